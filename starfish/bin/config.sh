@@ -51,6 +51,23 @@ SAMPLING_MODE=off
 # Overwritten by the Hadoop parameter starfish.profiler.sampling.fraction
 SAMPLING_FRACTION=0.1
 
+# Profile only 1 in every N map input records (or reduce input groups) and
+# extrapolate the per-record timings and byte counts. It lowers the profiling
+# overhead for jobs with many small records. Default is 1 (all records)
+# Overwritten by the Hadoop parameter starfish.profiler.record.sampling.interval
+RECORD_SAMPLING_INTERVAL=1
+
+# Profile only the records processed during this fraction of every second of
+# a task, instead of 1 in every N records. Default is 1 (all records)
+# Overwritten by the Hadoop parameter starfish.profiler.record.sampling.time.fraction
+RECORD_SAMPLING_TIME_FRACTION=1
+
+# The spool directory of a profile aggregation daemon. If set, the job
+# configuration is placed there when the job is submitted, so that the daemon
+# can aggregate the task profiles of the running job. Default is empty (off)
+# Overwritten by the Hadoop parameter starfish.profiler.aggregator.spool.dir
+AGGREGATOR_SPOOL_DIR=
+
 
 ###################################################################
 # OPTIMIZATION PARAMETERS
@@ -77,7 +94,8 @@ OUTPUT_LOCATION=stdout
 JOB_OPTIMIZER_TYPE=smart_rrs
 
 # The task scheduler to use by the optimizer
-# The options are: basic, advanced (advanced is default)
+# The options are: advanced, fifo, fair, capacity (advanced is default)
+# The fifo, fair, and capacity schedulers simulate concurrent jobs
 # Overwritten by the Hadoop parameter starfish.whatif.task.scheduler
 TASK_SCHEDULER=advanced
 
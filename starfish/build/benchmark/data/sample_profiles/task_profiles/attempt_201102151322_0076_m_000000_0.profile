@@ -0,0 +1,291 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt/part-00106	0
+MAP	STARTUP_MEM	214813440
+MAP	SETUP	514000
+MAP	SETUP_MEM	214813440
+SPILL	SORT_AND_SPILL	22181883000
+SPILL	QUICK_SORT	11648388000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	10282024000
+SPILL	WRITE	5224153000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11574580
+SPILL	COMPRESS_BYTE_COUNT	4518546
+SPILL	SORT_AND_SPILL	21631965000
+SPILL	QUICK_SORT	10903366000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10666301000
+SPILL	WRITE	5043317000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11217728
+SPILL	COMPRESS_BYTE_COUNT	4493810
+SPILL	SORT_AND_SPILL	21758538000
+SPILL	QUICK_SORT	10815393000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10686559000
+SPILL	WRITE	5320569000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11849188
+SPILL	COMPRESS_BYTE_COUNT	4638802
+SPILL	SORT_AND_SPILL	20073165000
+SPILL	QUICK_SORT	10314241000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	9711086000
+SPILL	WRITE	4940811000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	10975751
+SPILL	COMPRESS_BYTE_COUNT	4247917
+SPILL	SORT_AND_SPILL	21587794000
+SPILL	QUICK_SORT	9851558000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	10671091000
+SPILL	WRITE	5573653000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12021895
+SPILL	COMPRESS_BYTE_COUNT	4723950
+SPILL	SORT_AND_SPILL	20967765000
+SPILL	QUICK_SORT	10430695000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10483320000
+SPILL	WRITE	5292971000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11854468
+SPILL	COMPRESS_BYTE_COUNT	4596959
+SPILL	SORT_AND_SPILL	21545878000
+SPILL	QUICK_SORT	10388973000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10842994000
+SPILL	WRITE	5172661000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	10137053
+SPILL	COMPRESS_BYTE_COUNT	3954313
+SPILL	SORT_AND_SPILL	21330948000
+SPILL	QUICK_SORT	10175264000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11101254000
+SPILL	WRITE	5302584000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11438306
+SPILL	COMPRESS_BYTE_COUNT	4562676
+SPILL	SORT_AND_SPILL	20489319000
+SPILL	QUICK_SORT	9538057000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10332706000
+SPILL	WRITE	5269112000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11805715
+SPILL	COMPRESS_BYTE_COUNT	4629223
+SPILL	SORT_AND_SPILL	22556701000
+SPILL	QUICK_SORT	10246155000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	12258565000
+SPILL	WRITE	6133535000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11229367
+SPILL	COMPRESS_BYTE_COUNT	4383816
+SPILL	SORT_AND_SPILL	22177429000
+SPILL	QUICK_SORT	10120852000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11543221000
+SPILL	WRITE	5767097000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11976482
+SPILL	COMPRESS_BYTE_COUNT	4750266
+SPILL	SORT_AND_SPILL	23496003323
+SPILL	QUICK_SORT	10912487000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	12510022323
+SPILL	WRITE	6243745323
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12035680
+SPILL	COMPRESS_BYTE_COUNT	4717758
+SPILL	SORT_AND_SPILL	22985505000
+SPILL	QUICK_SORT	9480381000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	13350575000
+SPILL	WRITE	6547830000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11857477
+SPILL	COMPRESS_BYTE_COUNT	4735749
+SPILL	SORT_AND_SPILL	20987465000
+SPILL	QUICK_SORT	10660222000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10276168000
+SPILL	WRITE	5333318000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11725719
+SPILL	COMPRESS_BYTE_COUNT	4544959
+SPILL	SORT_AND_SPILL	21888829000
+SPILL	QUICK_SORT	9616838000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	11459823000
+SPILL	WRITE	5907014000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11886826
+SPILL	COMPRESS_BYTE_COUNT	4684802
+SPILL	SORT_AND_SPILL	20785672000
+SPILL	QUICK_SORT	9617033000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11112070000
+SPILL	WRITE	5923295000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11834484
+SPILL	COMPRESS_BYTE_COUNT	4663597
+SPILL	SORT_AND_SPILL	23109224000
+SPILL	QUICK_SORT	11033591000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11950909000
+SPILL	WRITE	5727097000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12156596
+SPILL	COMPRESS_BYTE_COUNT	4766470
+SPILL	SORT_AND_SPILL	21490773000
+SPILL	QUICK_SORT	9740405000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11688603000
+SPILL	WRITE	5737896000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11617244
+SPILL	COMPRESS_BYTE_COUNT	4527707
+SPILL	SORT_AND_SPILL	22795793000
+SPILL	QUICK_SORT	9651037000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	12501066000
+SPILL	WRITE	5818093000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11615310
+SPILL	COMPRESS_BYTE_COUNT	4566400
+SPILL	SORT_AND_SPILL	22433069000
+SPILL	QUICK_SORT	9912676000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	12461698000
+SPILL	WRITE	6556189000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12237842
+SPILL	COMPRESS_BYTE_COUNT	4840377
+SPILL	SORT_AND_SPILL	21772965000
+SPILL	QUICK_SORT	9780340000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10726160000
+SPILL	WRITE	5470878000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12105783
+SPILL	COMPRESS_BYTE_COUNT	4724775
+SPILL	SORT_AND_SPILL	15428534000
+SPILL	QUICK_SORT	8459496000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	6914797000
+SPILL	WRITE	3023898000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	6348643
+SPILL	COMPRESS_BYTE_COUNT	2535699
+SPILL	SORT_AND_SPILL	15444263000
+SPILL	QUICK_SORT	8528482000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5822441000
+SPILL	WRITE	2448242000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	5884094
+SPILL	COMPRESS_BYTE_COUNT	2376481
+SPILL	SORT_AND_SPILL	15442431000
+SPILL	QUICK_SORT	8609581000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	6778975000
+SPILL	WRITE	3050868000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7015826
+SPILL	COMPRESS_BYTE_COUNT	2797574
+SPILL	SORT_AND_SPILL	20706681000
+SPILL	QUICK_SORT	10774331000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	9804604000
+SPILL	WRITE	5065011000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	9979398
+SPILL	COMPRESS_BYTE_COUNT	3913051
+SPILL	SORT_AND_SPILL	16199480000
+SPILL	QUICK_SORT	9165909000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	6976139000
+SPILL	WRITE	3210349000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7103265
+SPILL	COMPRESS_BYTE_COUNT	2805836
+SPILL	SORT_AND_SPILL	18981272000
+SPILL	QUICK_SORT	9325306000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	8741769000
+SPILL	WRITE	4328684000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	9812361
+SPILL	COMPRESS_BYTE_COUNT	3925461
+SPILL	SORT_AND_SPILL	13648701000
+SPILL	QUICK_SORT	8995269000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	4607088000
+SPILL	WRITE	1750064000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	4128708
+SPILL	COMPRESS_BYTE_COUNT	1647925
+SPILL	SORT_AND_SPILL	13330263000
+SPILL	QUICK_SORT	8237611000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	4974636000
+SPILL	WRITE	1852708000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	4340868
+SPILL	COMPRESS_BYTE_COUNT	1719956
+SPILL	SORT_AND_SPILL	18492572000
+SPILL	QUICK_SORT	9956604000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	8490785000
+SPILL	WRITE	4129980000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	9345582
+SPILL	COMPRESS_BYTE_COUNT	3707131
+SPILL	SORT_AND_SPILL	20225954000
+SPILL	QUICK_SORT	9734449000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10365175000
+SPILL	WRITE	5309287000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11670145
+SPILL	COMPRESS_BYTE_COUNT	4618816
+SPILL	SORT_AND_SPILL	20025248000
+SPILL	QUICK_SORT	9563142000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10397842000
+SPILL	WRITE	5315779000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11942899
+SPILL	COMPRESS_BYTE_COUNT	4680641
+MAP	CLEANUP	100000
+MAP	CLEANUP_MEM	231542080
+MAP	TOTAL_RUN	775481148323
+MAP	READ	779597000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	120876
+MAP	VALUE_BYTE_COUNT	45068801
+MAP	MAP	774341293323
+MAP	WRITE	721472440323
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	30892089000
+MAP	SERIALIZE_OUTPUT	596258657323
+MAP	MAP_MEM	231544128
+SPILL	SORT_AND_SPILL	19514888000
+SPILL	QUICK_SORT	9259281000
+SPILL	SORT_COUNT	821937
+SPILL	COMBINE	10130838000
+SPILL	WRITE	5197657000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11531820
+SPILL	COMPRESS_BYTE_COUNT	4526762
+MERGE	TOTAL_MERGE	313422009000
+MERGE	READ_WRITE	312036584000
+MERGE	READ_WRITE_COUNT	108
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	1108867854323
@@ -0,0 +1,283 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt/part-00102	0
+MAP	STARTUP_MEM	213966248
+MAP	SETUP	515000
+MAP	SETUP_MEM	213966248
+SPILL	SORT_AND_SPILL	26501547375
+SPILL	QUICK_SORT	13331958000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	12526903375
+SPILL	WRITE	5925616375
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11966587
+SPILL	COMPRESS_BYTE_COUNT	4702002
+SPILL	SORT_AND_SPILL	25408606000
+SPILL	QUICK_SORT	13357551000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11713296000
+SPILL	WRITE	5638261000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11934405
+SPILL	COMPRESS_BYTE_COUNT	4671717
+SPILL	SORT_AND_SPILL	25040368142
+SPILL	QUICK_SORT	13034007000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11942941142
+SPILL	WRITE	5885183142
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12057832
+SPILL	COMPRESS_BYTE_COUNT	4673650
+SPILL	SORT_AND_SPILL	25688848000
+SPILL	QUICK_SORT	13884954000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11658227000
+SPILL	WRITE	5671088000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11888480
+SPILL	COMPRESS_BYTE_COUNT	4613965
+SPILL	SORT_AND_SPILL	24976327143
+SPILL	QUICK_SORT	12895684000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	11929186143
+SPILL	WRITE	5726899000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12069950
+SPILL	COMPRESS_BYTE_COUNT	4703257
+SPILL	SORT_AND_SPILL	23897756000
+SPILL	QUICK_SORT	12156672000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11680764000
+SPILL	WRITE	5509012000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11636089
+SPILL	COMPRESS_BYTE_COUNT	4543655
+SPILL	SORT_AND_SPILL	23685956000
+SPILL	QUICK_SORT	11701667000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11823942000
+SPILL	WRITE	5573491000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11777669
+SPILL	COMPRESS_BYTE_COUNT	4632213
+SPILL	SORT_AND_SPILL	22442470000
+SPILL	QUICK_SORT	10853131000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11533421000
+SPILL	WRITE	5453187000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11303795
+SPILL	COMPRESS_BYTE_COUNT	4355039
+SPILL	SORT_AND_SPILL	24066180000
+SPILL	QUICK_SORT	10615006000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	12994502000
+SPILL	WRITE	6135991000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11732682
+SPILL	COMPRESS_BYTE_COUNT	4598275
+SPILL	SORT_AND_SPILL	23498963142
+SPILL	QUICK_SORT	10751435142
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	12680015000
+SPILL	WRITE	6226585000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11845130
+SPILL	COMPRESS_BYTE_COUNT	4599671
+SPILL	SORT_AND_SPILL	23354664000
+SPILL	QUICK_SORT	10582273000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	12645833000
+SPILL	WRITE	6334188000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11681253
+SPILL	COMPRESS_BYTE_COUNT	4604893
+SPILL	SORT_AND_SPILL	23489035991
+SPILL	QUICK_SORT	10126332991
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	13305027000
+SPILL	WRITE	6366495000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11439799
+SPILL	COMPRESS_BYTE_COUNT	4430203
+SPILL	SORT_AND_SPILL	28443430000
+SPILL	QUICK_SORT	12143708000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	15988074000
+SPILL	WRITE	7121220000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12266527
+SPILL	COMPRESS_BYTE_COUNT	4784168
+SPILL	SORT_AND_SPILL	23671995294
+SPILL	QUICK_SORT	10225213294
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	13058133000
+SPILL	WRITE	5757279000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11885211
+SPILL	COMPRESS_BYTE_COUNT	4660545
+SPILL	SORT_AND_SPILL	23578763000
+SPILL	QUICK_SORT	11101908000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	12412486000
+SPILL	WRITE	6014039000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11956283
+SPILL	COMPRESS_BYTE_COUNT	4685419
+SPILL	SORT_AND_SPILL	21566119991
+SPILL	QUICK_SORT	10156236991
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11201744000
+SPILL	WRITE	5308553000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	10324821
+SPILL	COMPRESS_BYTE_COUNT	3984630
+SPILL	SORT_AND_SPILL	22723173000
+SPILL	QUICK_SORT	10748078000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11911540000
+SPILL	WRITE	5456985000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11978799
+SPILL	COMPRESS_BYTE_COUNT	4666058
+SPILL	SORT_AND_SPILL	25032005294
+SPILL	QUICK_SORT	11676965294
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	12555671000
+SPILL	WRITE	6115329000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11529914
+SPILL	COMPRESS_BYTE_COUNT	4497272
+SPILL	SORT_AND_SPILL	28545269000
+SPILL	QUICK_SORT	10437777000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	13599150000
+SPILL	WRITE	6400988000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11787265
+SPILL	COMPRESS_BYTE_COUNT	4565661
+SPILL	SORT_AND_SPILL	24492706143
+SPILL	QUICK_SORT	10383331143
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	14044770000
+SPILL	WRITE	6815681000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11560493
+SPILL	COMPRESS_BYTE_COUNT	4559488
+SPILL	SORT_AND_SPILL	25255848000
+SPILL	QUICK_SORT	10994089000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	13851403000
+SPILL	WRITE	6942993000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11966885
+SPILL	COMPRESS_BYTE_COUNT	4625697
+SPILL	SORT_AND_SPILL	23889881143
+SPILL	QUICK_SORT	10556049143
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	13271761000
+SPILL	WRITE	6033240000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11731495
+SPILL	COMPRESS_BYTE_COUNT	4545327
+SPILL	SORT_AND_SPILL	25845835000
+SPILL	QUICK_SORT	10511057000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	14780057000
+SPILL	WRITE	7611580000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11943021
+SPILL	COMPRESS_BYTE_COUNT	4665660
+SPILL	SORT_AND_SPILL	24359846142
+SPILL	QUICK_SORT	10512057142
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	13344959000
+SPILL	WRITE	6349179000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11750078
+SPILL	COMPRESS_BYTE_COUNT	4651288
+SPILL	SORT_AND_SPILL	24050823000
+SPILL	QUICK_SORT	11251156000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	12732450000
+SPILL	WRITE	6106629000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12054323
+SPILL	COMPRESS_BYTE_COUNT	4715133
+SPILL	SORT_AND_SPILL	24892549143
+SPILL	QUICK_SORT	11278121143
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	13425334000
+SPILL	WRITE	6760831000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11722896
+SPILL	COMPRESS_BYTE_COUNT	4623518
+SPILL	SORT_AND_SPILL	26148148000
+SPILL	QUICK_SORT	11741413000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	14336704000
+SPILL	WRITE	6542402000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11965914
+SPILL	COMPRESS_BYTE_COUNT	4689487
+SPILL	SORT_AND_SPILL	26058256142
+SPILL	QUICK_SORT	10310545142
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	15041353000
+SPILL	WRITE	6676664000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11975326
+SPILL	COMPRESS_BYTE_COUNT	4710550
+SPILL	SORT_AND_SPILL	24148758000
+SPILL	QUICK_SORT	10809261000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	12314413000
+SPILL	WRITE	5868219000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11858152
+SPILL	COMPRESS_BYTE_COUNT	4667712
+SPILL	SORT_AND_SPILL	26306587143
+SPILL	QUICK_SORT	11262754143
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	14977100000
+SPILL	WRITE	7053514000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11546546
+SPILL	COMPRESS_BYTE_COUNT	4518445
+SPILL	SORT_AND_SPILL	25578679000
+SPILL	QUICK_SORT	11944340000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	13337270000
+SPILL	WRITE	6237921000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11916443
+SPILL	COMPRESS_BYTE_COUNT	4671621
+MAP	CLEANUP	158000
+MAP	CLEANUP_MEM	240984064
+MAP	TOTAL_RUN	921785432371
+MAP	READ	1167391000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	135221
+MAP	VALUE_BYTE_COUNT	41656128
+MAP	MAP	920377621371
+MAP	WRITE	872071368371
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	37633723000
+MAP	SERIALIZE_OUTPUT	709194882935
+MAP	MAP_MEM	241014792
+SPILL	SORT_AND_SPILL	7705753000
+SPILL	QUICK_SORT	3143683000
+SPILL	SORT_COUNT	263280
+SPILL	COMBINE	4536465000
+SPILL	WRITE	2385448000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	3727632
+SPILL	COMPRESS_BYTE_COUNT	1456195
+MERGE	TOTAL_MERGE	608120070149
+MERGE	READ_WRITE	590588628149
+MERGE	READ_WRITE_COUNT	108
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	1538120647520
@@ -0,0 +1,283 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt/part-00100	0
+MAP	STARTUP_MEM	213918872
+MAP	SETUP	491000
+MAP	SETUP_MEM	213918872
+SPILL	SORT_AND_SPILL	26268067375
+SPILL	QUICK_SORT	13458276000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	11967260375
+SPILL	WRITE	5573552375
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11729550
+SPILL	COMPRESS_BYTE_COUNT	4516857
+SPILL	SORT_AND_SPILL	25156754000
+SPILL	QUICK_SORT	13347695000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11656190000
+SPILL	WRITE	5476496000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11887602
+SPILL	COMPRESS_BYTE_COUNT	4639246
+SPILL	SORT_AND_SPILL	25654672142
+SPILL	QUICK_SORT	13652970000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11940943142
+SPILL	WRITE	5481785142
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11805660
+SPILL	COMPRESS_BYTE_COUNT	4614408
+SPILL	SORT_AND_SPILL	25429679000
+SPILL	QUICK_SORT	13699744000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11561546000
+SPILL	WRITE	5571833000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11707890
+SPILL	COMPRESS_BYTE_COUNT	4548990
+SPILL	SORT_AND_SPILL	24702826143
+SPILL	QUICK_SORT	12936556000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	11630485143
+SPILL	WRITE	5528754000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11677714
+SPILL	COMPRESS_BYTE_COUNT	4514967
+SPILL	SORT_AND_SPILL	26321963000
+SPILL	QUICK_SORT	14538466000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11720587000
+SPILL	WRITE	5577688000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12010074
+SPILL	COMPRESS_BYTE_COUNT	4706583
+SPILL	SORT_AND_SPILL	24298873143
+SPILL	QUICK_SORT	12506287000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11605504143
+SPILL	WRITE	5903661000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11791360
+SPILL	COMPRESS_BYTE_COUNT	4603131
+SPILL	SORT_AND_SPILL	26294712000
+SPILL	QUICK_SORT	12389449000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	13712675000
+SPILL	WRITE	6301980000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11886154
+SPILL	COMPRESS_BYTE_COUNT	4642741
+SPILL	SORT_AND_SPILL	25089402142
+SPILL	QUICK_SORT	11388811000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	13446608142
+SPILL	WRITE	6552392000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12076320
+SPILL	COMPRESS_BYTE_COUNT	4767702
+SPILL	SORT_AND_SPILL	24590854000
+SPILL	QUICK_SORT	10274624000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	14193496000
+SPILL	WRITE	6289838000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11953174
+SPILL	COMPRESS_BYTE_COUNT	4661220
+SPILL	SORT_AND_SPILL	26658620991
+SPILL	QUICK_SORT	10588620000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	15135287991
+SPILL	WRITE	7193711991
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11950307
+SPILL	COMPRESS_BYTE_COUNT	4631567
+SPILL	SORT_AND_SPILL	23160560000
+SPILL	QUICK_SORT	10792764000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11942373000
+SPILL	WRITE	5709322000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11822334
+SPILL	COMPRESS_BYTE_COUNT	4560620
+SPILL	SORT_AND_SPILL	25812587294
+SPILL	QUICK_SORT	10455155000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	15177701294
+SPILL	WRITE	6647222000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12080247
+SPILL	COMPRESS_BYTE_COUNT	4702312
+SPILL	SORT_AND_SPILL	25291763000
+SPILL	QUICK_SORT	10951470000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	14188852000
+SPILL	WRITE	6727098000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11875795
+SPILL	COMPRESS_BYTE_COUNT	4633140
+SPILL	SORT_AND_SPILL	25168032991
+SPILL	QUICK_SORT	11379895000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	13717331991
+SPILL	WRITE	7099693991
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12078235
+SPILL	COMPRESS_BYTE_COUNT	4752334
+SPILL	SORT_AND_SPILL	25214857000
+SPILL	QUICK_SORT	12627108000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	12466393000
+SPILL	WRITE	5831354000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11622504
+SPILL	COMPRESS_BYTE_COUNT	4499140
+SPILL	SORT_AND_SPILL	23979889294
+SPILL	QUICK_SORT	11969179000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11946064294
+SPILL	WRITE	5799237000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11925749
+SPILL	COMPRESS_BYTE_COUNT	4608998
+SPILL	SORT_AND_SPILL	24365914000
+SPILL	QUICK_SORT	10414221000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	13764363000
+SPILL	WRITE	6239413000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11920148
+SPILL	COMPRESS_BYTE_COUNT	4697502
+SPILL	SORT_AND_SPILL	24602097143
+SPILL	QUICK_SORT	10522983000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	14017803143
+SPILL	WRITE	6528600143
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11763067
+SPILL	COMPRESS_BYTE_COUNT	4562979
+SPILL	SORT_AND_SPILL	24389577000
+SPILL	QUICK_SORT	10321792000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	13711810000
+SPILL	WRITE	6619371000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11865799
+SPILL	COMPRESS_BYTE_COUNT	4632963
+SPILL	SORT_AND_SPILL	24009543143
+SPILL	QUICK_SORT	10449402000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	13499704143
+SPILL	WRITE	6497888143
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11386278
+SPILL	COMPRESS_BYTE_COUNT	4456532
+SPILL	SORT_AND_SPILL	26356469000
+SPILL	QUICK_SORT	10235917000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	14957132000
+SPILL	WRITE	7442584000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12049472
+SPILL	COMPRESS_BYTE_COUNT	4702639
+SPILL	SORT_AND_SPILL	25357322142
+SPILL	QUICK_SORT	10849416000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	14440102142
+SPILL	WRITE	6734638142
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11804834
+SPILL	COMPRESS_BYTE_COUNT	4622900
+SPILL	SORT_AND_SPILL	24945636000
+SPILL	QUICK_SORT	10595167000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	14147178000
+SPILL	WRITE	6342165000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12080754
+SPILL	COMPRESS_BYTE_COUNT	4730688
+SPILL	SORT_AND_SPILL	30269823143
+SPILL	QUICK_SORT	11669812000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	18541539143
+SPILL	WRITE	10602021143
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11413023
+SPILL	COMPRESS_BYTE_COUNT	4437716
+SPILL	SORT_AND_SPILL	21943731000
+SPILL	QUICK_SORT	10291883000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11493218000
+SPILL	WRITE	5473677000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11213984
+SPILL	COMPRESS_BYTE_COUNT	4345527
+SPILL	SORT_AND_SPILL	23543078142
+SPILL	QUICK_SORT	10606912000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	12808912142
+SPILL	WRITE	5743139000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12083069
+SPILL	COMPRESS_BYTE_COUNT	4809007
+SPILL	SORT_AND_SPILL	24428553000
+SPILL	QUICK_SORT	10481083000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	13770663000
+SPILL	WRITE	6268759000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11916099
+SPILL	COMPRESS_BYTE_COUNT	4688122
+SPILL	SORT_AND_SPILL	27450669143
+SPILL	QUICK_SORT	12447910000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	14928848143
+SPILL	WRITE	6684968000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12213715
+SPILL	COMPRESS_BYTE_COUNT	4797861
+SPILL	SORT_AND_SPILL	23865320000
+SPILL	QUICK_SORT	10550510000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	13194371000
+SPILL	WRITE	5691116000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11390554
+SPILL	COMPRESS_BYTE_COUNT	4445553
+MAP	CLEANUP	172000
+MAP	CLEANUP_MEM	269998048
+MAP	TOTAL_RUN	913020146371
+MAP	READ	1218452000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	135832
+MAP	VALUE_BYTE_COUNT	41636842
+MAP	MAP	911675611371
+MAP	WRITE	862723426371
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	40784522000
+MAP	SERIALIZE_OUTPUT	711064324371
+MAP	MAP_MEM	269998048
+SPILL	SORT_AND_SPILL	24162089143
+SPILL	QUICK_SORT	10069132000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	12881765143
+SPILL	WRITE	5725449143
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11332124
+SPILL	COMPRESS_BYTE_COUNT	4430403
+SPILL	SORT_AND_SPILL	3628756000
+SPILL	QUICK_SORT	1342582000
+SPILL	SORT_COUNT	151618
+SPILL	COMBINE	2266927000
+SPILL	WRITE	1027946000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	2384082
+SPILL	COMPRESS_BYTE_COUNT	907730
+MERGE	TOTAL_MERGE	608845825006
+MERGE	READ_WRITE	585729696006
+MERGE	READ_WRITE_COUNT	108
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	1548979135520
@@ -0,0 +1,275 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt/part-00105	0
+MAP	STARTUP_MEM	214815288
+MAP	SETUP	547000
+MAP	SETUP_MEM	214815288
+SPILL	SORT_AND_SPILL	25290964000
+SPILL	QUICK_SORT	14028401000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	10994272000
+SPILL	WRITE	5575742000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11841568
+SPILL	COMPRESS_BYTE_COUNT	4643593
+SPILL	SORT_AND_SPILL	23717915000
+SPILL	QUICK_SORT	12983097000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10659627000
+SPILL	WRITE	5460861000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12119422
+SPILL	COMPRESS_BYTE_COUNT	4745641
+SPILL	SORT_AND_SPILL	24247363000
+SPILL	QUICK_SORT	11521688000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11426788000
+SPILL	WRITE	5920375000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11942550
+SPILL	COMPRESS_BYTE_COUNT	4668544
+SPILL	SORT_AND_SPILL	23760058000
+SPILL	QUICK_SORT	13129543000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10566639000
+SPILL	WRITE	5478342000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12075685
+SPILL	COMPRESS_BYTE_COUNT	4712269
+SPILL	SORT_AND_SPILL	25080983000
+SPILL	QUICK_SORT	12294366000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	12162043000
+SPILL	WRITE	6152124000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12086914
+SPILL	COMPRESS_BYTE_COUNT	4777366
+SPILL	SORT_AND_SPILL	23496579000
+SPILL	QUICK_SORT	12183809000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11103518000
+SPILL	WRITE	5473690000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11941073
+SPILL	COMPRESS_BYTE_COUNT	4655040
+SPILL	SORT_AND_SPILL	23125188834
+SPILL	QUICK_SORT	11141412834
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11917111000
+SPILL	WRITE	6049211000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12060375
+SPILL	COMPRESS_BYTE_COUNT	4712566
+SPILL	SORT_AND_SPILL	24514201000
+SPILL	QUICK_SORT	11730529000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	12596921000
+SPILL	WRITE	6407656000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12078164
+SPILL	COMPRESS_BYTE_COUNT	4712207
+SPILL	SORT_AND_SPILL	22664039000
+SPILL	QUICK_SORT	10465862000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11745668000
+SPILL	WRITE	5800430000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11313846
+SPILL	COMPRESS_BYTE_COUNT	4462377
+SPILL	SORT_AND_SPILL	22277374000
+SPILL	QUICK_SORT	10236663000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	11015041000
+SPILL	WRITE	5530715000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11810867
+SPILL	COMPRESS_BYTE_COUNT	4617021
+SPILL	SORT_AND_SPILL	25501291000
+SPILL	QUICK_SORT	11673248000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	13757738000
+SPILL	WRITE	6684373000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12044230
+SPILL	COMPRESS_BYTE_COUNT	4757916
+SPILL	SORT_AND_SPILL	24116763000
+SPILL	QUICK_SORT	10602795000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	12583278000
+SPILL	WRITE	6460323000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12248560
+SPILL	COMPRESS_BYTE_COUNT	4791364
+SPILL	SORT_AND_SPILL	25384137000
+SPILL	QUICK_SORT	10654866000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	14662578000
+SPILL	WRITE	7360591000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12478763
+SPILL	COMPRESS_BYTE_COUNT	4897587
+SPILL	SORT_AND_SPILL	21287187000
+SPILL	QUICK_SORT	10369834000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10748925000
+SPILL	WRITE	5495500000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12017205
+SPILL	COMPRESS_BYTE_COUNT	4738740
+SPILL	SORT_AND_SPILL	21727809000
+SPILL	QUICK_SORT	10248987000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	11414402000
+SPILL	WRITE	5807165000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11668968
+SPILL	COMPRESS_BYTE_COUNT	4588036
+SPILL	SORT_AND_SPILL	22614728000
+SPILL	QUICK_SORT	10124442000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11468037000
+SPILL	WRITE	5890153000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11549014
+SPILL	COMPRESS_BYTE_COUNT	4487749
+SPILL	SORT_AND_SPILL	23336158000
+SPILL	QUICK_SORT	11205172000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11794828000
+SPILL	WRITE	6328416000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11723459
+SPILL	COMPRESS_BYTE_COUNT	4627458
+SPILL	SORT_AND_SPILL	22131739000
+SPILL	QUICK_SORT	11026622000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10743696000
+SPILL	WRITE	5522345000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11796227
+SPILL	COMPRESS_BYTE_COUNT	4582851
+SPILL	SORT_AND_SPILL	22285568000
+SPILL	QUICK_SORT	10216799000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	12001820000
+SPILL	WRITE	6161969000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11917370
+SPILL	COMPRESS_BYTE_COUNT	4679742
+SPILL	SORT_AND_SPILL	22114830000
+SPILL	QUICK_SORT	10938270000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	10718427000
+SPILL	WRITE	5380724000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11932190
+SPILL	COMPRESS_BYTE_COUNT	4685657
+SPILL	SORT_AND_SPILL	24377041000
+SPILL	QUICK_SORT	13709853000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10600491000
+SPILL	WRITE	5387518000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11971485
+SPILL	COMPRESS_BYTE_COUNT	4657190
+SPILL	SORT_AND_SPILL	22605543000
+SPILL	QUICK_SORT	10951605000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11042374000
+SPILL	WRITE	5920548000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11735939
+SPILL	COMPRESS_BYTE_COUNT	4612788
+SPILL	SORT_AND_SPILL	23062000000
+SPILL	QUICK_SORT	12578549000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10411577000
+SPILL	WRITE	5346745000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11771737
+SPILL	COMPRESS_BYTE_COUNT	4603272
+SPILL	SORT_AND_SPILL	22727971000
+SPILL	QUICK_SORT	11709242000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10396673000
+SPILL	WRITE	5343927000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11856350
+SPILL	COMPRESS_BYTE_COUNT	4658686
+SPILL	SORT_AND_SPILL	23852520000
+SPILL	QUICK_SORT	12741788000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	11055449000
+SPILL	WRITE	5944372000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11284854
+SPILL	COMPRESS_BYTE_COUNT	4360819
+SPILL	SORT_AND_SPILL	23440950000
+SPILL	QUICK_SORT	12362012000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10555999000
+SPILL	WRITE	5461757000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11998105
+SPILL	COMPRESS_BYTE_COUNT	4713894
+SPILL	SORT_AND_SPILL	22469809000
+SPILL	QUICK_SORT	10983045000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11397970000
+SPILL	WRITE	5432824000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12092242
+SPILL	COMPRESS_BYTE_COUNT	4693397
+SPILL	SORT_AND_SPILL	22409424000
+SPILL	QUICK_SORT	11296726000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10604379000
+SPILL	WRITE	5395931000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11904314
+SPILL	COMPRESS_BYTE_COUNT	4615234
+SPILL	SORT_AND_SPILL	19550208000
+SPILL	QUICK_SORT	9845408000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	9640228000
+SPILL	WRITE	4881881000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	10680210
+SPILL	COMPRESS_BYTE_COUNT	4155814
+SPILL	SORT_AND_SPILL	21353071000
+SPILL	QUICK_SORT	10411195000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	10804203000
+SPILL	WRITE	5493018000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12118116
+SPILL	COMPRESS_BYTE_COUNT	4800189
+MAP	CLEANUP	83000
+MAP	CLEANUP_MEM	226432912
+MAP	TOTAL_RUN	814166199834
+MAP	READ	825938000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	128407
+MAP	VALUE_BYTE_COUNT	40556197
+MAP	MAP	813262243834
+MAP	WRITE	781719461834
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	27032755000
+MAP	SERIALIZE_OUTPUT	652853896834
+MAP	MAP_MEM	226474392
+SPILL	SORT_AND_SPILL	7228423000
+SPILL	QUICK_SORT	3277202000
+SPILL	SORT_COUNT	309881
+SPILL	COMBINE	3918008000
+SPILL	WRITE	2094944000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	4679158
+SPILL	COMPRESS_BYTE_COUNT	1789558
+MERGE	TOTAL_MERGE	495574878000
+MERGE	READ_WRITE	466114769000
+MERGE	READ_WRITE_COUNT	108
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	1317430797834
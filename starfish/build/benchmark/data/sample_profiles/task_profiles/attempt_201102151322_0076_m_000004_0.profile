@@ -0,0 +1,275 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt/part-00109	0
+MAP	STARTUP_MEM	213918864
+MAP	SETUP	495000
+MAP	SETUP_MEM	213918864
+SPILL	SORT_AND_SPILL	22141777000
+SPILL	QUICK_SORT	10945057000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	10262872000
+SPILL	WRITE	5250727000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11564546
+SPILL	COMPRESS_BYTE_COUNT	4522890
+SPILL	SORT_AND_SPILL	21421315000
+SPILL	QUICK_SORT	10898069000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10424654000
+SPILL	WRITE	5310579000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11710510
+SPILL	COMPRESS_BYTE_COUNT	4621529
+SPILL	SORT_AND_SPILL	20661075000
+SPILL	QUICK_SORT	9768233000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10377902000
+SPILL	WRITE	5299326000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11923829
+SPILL	COMPRESS_BYTE_COUNT	4717403
+SPILL	SORT_AND_SPILL	20926444000
+SPILL	QUICK_SORT	10445599000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10419821000
+SPILL	WRITE	5434414000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11991079
+SPILL	COMPRESS_BYTE_COUNT	4775461
+SPILL	SORT_AND_SPILL	22615992000
+SPILL	QUICK_SORT	11097322000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	10506884000
+SPILL	WRITE	5409171000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11884593
+SPILL	COMPRESS_BYTE_COUNT	4660158
+SPILL	SORT_AND_SPILL	24047500000
+SPILL	QUICK_SORT	12748353000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11241860000
+SPILL	WRITE	5965284000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12022382
+SPILL	COMPRESS_BYTE_COUNT	4710797
+SPILL	SORT_AND_SPILL	22958780000
+SPILL	QUICK_SORT	10495792000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11388497000
+SPILL	WRITE	5617621000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12157157
+SPILL	COMPRESS_BYTE_COUNT	4735839
+SPILL	SORT_AND_SPILL	18519280000
+SPILL	QUICK_SORT	9988482000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	8458680000
+SPILL	WRITE	4080907000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	9080885
+SPILL	COMPRESS_BYTE_COUNT	3635758
+SPILL	SORT_AND_SPILL	16764742000
+SPILL	QUICK_SORT	8489882000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	7017340000
+SPILL	WRITE	3215050000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7264172
+SPILL	COMPRESS_BYTE_COUNT	2880463
+SPILL	SORT_AND_SPILL	19373968000
+SPILL	QUICK_SORT	9878625000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	9446263000
+SPILL	WRITE	4844376000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	10696472
+SPILL	COMPRESS_BYTE_COUNT	4232191
+SPILL	SORT_AND_SPILL	17062492000
+SPILL	QUICK_SORT	9476543000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	7467994000
+SPILL	WRITE	3312951000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7460219
+SPILL	COMPRESS_BYTE_COUNT	3001090
+SPILL	SORT_AND_SPILL	22101217454
+SPILL	QUICK_SORT	11513513454
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10528979000
+SPILL	WRITE	5512911000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12152885
+SPILL	COMPRESS_BYTE_COUNT	4822881
+SPILL	SORT_AND_SPILL	21988441000
+SPILL	QUICK_SORT	11335786000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10515216000
+SPILL	WRITE	5382149000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11976440
+SPILL	COMPRESS_BYTE_COUNT	4733410
+SPILL	SORT_AND_SPILL	20628759000
+SPILL	QUICK_SORT	10497356000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10076526000
+SPILL	WRITE	5118343000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11991094
+SPILL	COMPRESS_BYTE_COUNT	4677926
+SPILL	SORT_AND_SPILL	21813930000
+SPILL	QUICK_SORT	10202469000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	10141731000
+SPILL	WRITE	5165951000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11725687
+SPILL	COMPRESS_BYTE_COUNT	4596465
+SPILL	SORT_AND_SPILL	21424540000
+SPILL	QUICK_SORT	11220013000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10150336000
+SPILL	WRITE	5347661000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11858342
+SPILL	COMPRESS_BYTE_COUNT	4619175
+SPILL	SORT_AND_SPILL	19145237000
+SPILL	QUICK_SORT	9478054000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	9540042000
+SPILL	WRITE	4741776000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	10840686
+SPILL	COMPRESS_BYTE_COUNT	4229161
+SPILL	SORT_AND_SPILL	20246829000
+SPILL	QUICK_SORT	9852890000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10337546000
+SPILL	WRITE	5222742000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11908407
+SPILL	COMPRESS_BYTE_COUNT	4657679
+SPILL	SORT_AND_SPILL	22538239000
+SPILL	QUICK_SORT	10377112000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11867897000
+SPILL	WRITE	5957860000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11637944
+SPILL	COMPRESS_BYTE_COUNT	4548297
+SPILL	SORT_AND_SPILL	19040496000
+SPILL	QUICK_SORT	9556009000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	9424409000
+SPILL	WRITE	4850108000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	10129402
+SPILL	COMPRESS_BYTE_COUNT	3961645
+SPILL	SORT_AND_SPILL	22623429000
+SPILL	QUICK_SORT	10232141000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	12045863000
+SPILL	WRITE	6060019000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11688005
+SPILL	COMPRESS_BYTE_COUNT	4555531
+SPILL	SORT_AND_SPILL	22776219000
+SPILL	QUICK_SORT	9921138000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	12794440000
+SPILL	WRITE	6855449000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11801057
+SPILL	COMPRESS_BYTE_COUNT	4652967
+SPILL	SORT_AND_SPILL	21326541000
+SPILL	QUICK_SORT	9921137000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11285841000
+SPILL	WRITE	5911107000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11500505
+SPILL	COMPRESS_BYTE_COUNT	4473095
+SPILL	SORT_AND_SPILL	21703149000
+SPILL	QUICK_SORT	10048385000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11594815000
+SPILL	WRITE	6361009000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11789831
+SPILL	COMPRESS_BYTE_COUNT	4664294
+SPILL	SORT_AND_SPILL	21634415000
+SPILL	QUICK_SORT	9721152000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	11136227000
+SPILL	WRITE	5675884000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12163910
+SPILL	COMPRESS_BYTE_COUNT	4797612
+SPILL	SORT_AND_SPILL	21228732000
+SPILL	QUICK_SORT	10133861000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10906387000
+SPILL	WRITE	5659328000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11470576
+SPILL	COMPRESS_BYTE_COUNT	4512769
+SPILL	SORT_AND_SPILL	23903275000
+SPILL	QUICK_SORT	9807893000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	13049676000
+SPILL	WRITE	6075815000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11976852
+SPILL	COMPRESS_BYTE_COUNT	4741595
+SPILL	SORT_AND_SPILL	20139926000
+SPILL	QUICK_SORT	9695482000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10391016000
+SPILL	WRITE	5367254000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11608818
+SPILL	COMPRESS_BYTE_COUNT	4564521
+SPILL	SORT_AND_SPILL	22641832000
+SPILL	QUICK_SORT	9734814000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	12294031000
+SPILL	WRITE	6307914000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11619380
+SPILL	COMPRESS_BYTE_COUNT	4529791
+MAP	CLEANUP	53000
+MAP	CLEANUP_MEM	249558752
+MAP	TOTAL_RUN	730948596454
+MAP	READ	737235000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	135593
+MAP	VALUE_BYTE_COUNT	40490849
+MAP	MAP	730126090454
+MAP	WRITE	684629287454
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	27535837000
+MAP	SERIALIZE_OUTPUT	579665557454
+MAP	MAP_MEM	249560800
+SPILL	SORT_AND_SPILL	21461503000
+SPILL	QUICK_SORT	10305596000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	11096933000
+SPILL	WRITE	5747722000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11673881
+SPILL	COMPRESS_BYTE_COUNT	4668760
+SPILL	SORT_AND_SPILL	687971000
+SPILL	QUICK_SORT	265912000
+SPILL	SORT_COUNT	27719
+SPILL	COMBINE	344990000
+SPILL	WRITE	177517000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	489154
+SPILL	COMPRESS_BYTE_COUNT	195850
+MERGE	TOTAL_MERGE	319436982000
+MERGE	READ_WRITE	317090983000
+MERGE	READ_WRITE_COUNT	108
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	1072978496454
@@ -0,0 +1,267 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt/part-00104	0
+MAP	STARTUP_MEM	213912272
+MAP	SETUP	511000
+MAP	SETUP_MEM	213912272
+SPILL	SORT_AND_SPILL	25955591000
+SPILL	QUICK_SORT	12443973000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	13275616000
+SPILL	WRITE	6068750000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12049336
+SPILL	COMPRESS_BYTE_COUNT	4753213
+SPILL	SORT_AND_SPILL	24629359162
+SPILL	QUICK_SORT	12543659000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11618762162
+SPILL	WRITE	5753603000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11945655
+SPILL	COMPRESS_BYTE_COUNT	4747131
+SPILL	SORT_AND_SPILL	23605122000
+SPILL	QUICK_SORT	11814560000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11713217000
+SPILL	WRITE	5540726000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11688451
+SPILL	COMPRESS_BYTE_COUNT	4613820
+SPILL	SORT_AND_SPILL	23402552642
+SPILL	QUICK_SORT	11626988000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11505489642
+SPILL	WRITE	5418614000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11649047
+SPILL	COMPRESS_BYTE_COUNT	4551964
+SPILL	SORT_AND_SPILL	22320825000
+SPILL	QUICK_SORT	10605374000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	11646481000
+SPILL	WRITE	5352560000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12001738
+SPILL	COMPRESS_BYTE_COUNT	4722242
+SPILL	SORT_AND_SPILL	25741253000
+SPILL	QUICK_SORT	10606657000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	14640516000
+SPILL	WRITE	6365155000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11912762
+SPILL	COMPRESS_BYTE_COUNT	4693881
+SPILL	SORT_AND_SPILL	23111057000
+SPILL	QUICK_SORT	10214444000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	12763722000
+SPILL	WRITE	6357740000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11717794
+SPILL	COMPRESS_BYTE_COUNT	4602144
+SPILL	SORT_AND_SPILL	25068395000
+SPILL	QUICK_SORT	10409243000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	14529321000
+SPILL	WRITE	6185343000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11941602
+SPILL	COMPRESS_BYTE_COUNT	4743525
+SPILL	SORT_AND_SPILL	23920355000
+SPILL	QUICK_SORT	10636977000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	13004552000
+SPILL	WRITE	5979898000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11883838
+SPILL	COMPRESS_BYTE_COUNT	4624355
+SPILL	SORT_AND_SPILL	26213461000
+SPILL	QUICK_SORT	11486616000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	14664865000
+SPILL	WRITE	6584362000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11847716
+SPILL	COMPRESS_BYTE_COUNT	4617563
+SPILL	SORT_AND_SPILL	23655028000
+SPILL	QUICK_SORT	10929109000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	12488493000
+SPILL	WRITE	5875016000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11842080
+SPILL	COMPRESS_BYTE_COUNT	4657788
+SPILL	SORT_AND_SPILL	23880737000
+SPILL	QUICK_SORT	10463870000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	13351136000
+SPILL	WRITE	6411876000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11877710
+SPILL	COMPRESS_BYTE_COUNT	4664315
+SPILL	SORT_AND_SPILL	24390401794
+SPILL	QUICK_SORT	10407533794
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	13833524000
+SPILL	WRITE	6386682000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11638020
+SPILL	COMPRESS_BYTE_COUNT	4560124
+SPILL	SORT_AND_SPILL	23313440000
+SPILL	QUICK_SORT	10279005000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	12971623000
+SPILL	WRITE	6140268000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11931935
+SPILL	COMPRESS_BYTE_COUNT	4653985
+SPILL	SORT_AND_SPILL	25526662490
+SPILL	QUICK_SORT	10864022490
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	14491983000
+SPILL	WRITE	6513398000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11794982
+SPILL	COMPRESS_BYTE_COUNT	4623635
+SPILL	SORT_AND_SPILL	24782865000
+SPILL	QUICK_SORT	10305576000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	13427719000
+SPILL	WRITE	6354603000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12108947
+SPILL	COMPRESS_BYTE_COUNT	4784052
+SPILL	SORT_AND_SPILL	24437518641
+SPILL	QUICK_SORT	11198412641
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	13176030000
+SPILL	WRITE	6093271000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11955231
+SPILL	COMPRESS_BYTE_COUNT	4614503
+SPILL	SORT_AND_SPILL	25812115000
+SPILL	QUICK_SORT	11193379000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	13719419000
+SPILL	WRITE	6186343000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12287674
+SPILL	COMPRESS_BYTE_COUNT	4850156
+SPILL	SORT_AND_SPILL	23323368794
+SPILL	QUICK_SORT	10631814794
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	12504401000
+SPILL	WRITE	5807954000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12032552
+SPILL	COMPRESS_BYTE_COUNT	4747545
+SPILL	SORT_AND_SPILL	22361763000
+SPILL	QUICK_SORT	9526861000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	12671190000
+SPILL	WRITE	5385431000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	10291875
+SPILL	COMPRESS_BYTE_COUNT	3930955
+SPILL	SORT_AND_SPILL	25380722641
+SPILL	QUICK_SORT	10617677641
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	14697760000
+SPILL	WRITE	6821432000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11951776
+SPILL	COMPRESS_BYTE_COUNT	4696764
+SPILL	SORT_AND_SPILL	23817887000
+SPILL	QUICK_SORT	10258067000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	13382037000
+SPILL	WRITE	5951864000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11952927
+SPILL	COMPRESS_BYTE_COUNT	4684698
+SPILL	SORT_AND_SPILL	21607166490
+SPILL	QUICK_SORT	10099182490
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11352192000
+SPILL	WRITE	5249168000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11629054
+SPILL	COMPRESS_BYTE_COUNT	4509651
+SPILL	SORT_AND_SPILL	22476721000
+SPILL	QUICK_SORT	10335084000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	12075819000
+SPILL	WRITE	5672213000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12072299
+SPILL	COMPRESS_BYTE_COUNT	4800644
+SPILL	SORT_AND_SPILL	23043225642
+SPILL	QUICK_SORT	11033894000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	11717978642
+SPILL	WRITE	5741146642
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11750563
+SPILL	COMPRESS_BYTE_COUNT	4609830
+SPILL	SORT_AND_SPILL	26015648000
+SPILL	QUICK_SORT	12486565000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	13469712000
+SPILL	WRITE	6306148000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11530345
+SPILL	COMPRESS_BYTE_COUNT	4538046
+SPILL	SORT_AND_SPILL	23167146641
+SPILL	QUICK_SORT	10971326000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11741800641
+SPILL	WRITE	5660446000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11894952
+SPILL	COMPRESS_BYTE_COUNT	4703927
+SPILL	SORT_AND_SPILL	22642234000
+SPILL	QUICK_SORT	10920670000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11660443000
+SPILL	WRITE	5703623000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11749239
+SPILL	COMPRESS_BYTE_COUNT	4608184
+SPILL	SORT_AND_SPILL	24481700794
+SPILL	QUICK_SORT	12172025000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	12186998794
+SPILL	WRITE	5730973794
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11746429
+SPILL	COMPRESS_BYTE_COUNT	4617642
+MAP	CLEANUP	104000
+MAP	CLEANUP_MEM	229453144
+MAP	TOTAL_RUN	846767206503
+MAP	READ	768490000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	131690
+MAP	VALUE_BYTE_COUNT	39756738
+MAP	MAP	845902626503
+MAP	WRITE	803670502220
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	41499683794
+MAP	SERIALIZE_OUTPUT	659230261142
+MAP	MAP_MEM	229455192
+SPILL	SORT_AND_SPILL	16807502000
+SPILL	QUICK_SORT	7642411000
+SPILL	SORT_COUNT	628083
+SPILL	COMBINE	9119654000
+SPILL	WRITE	4311688000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	8934899
+SPILL	COMPRESS_BYTE_COUNT	3532381
+MERGE	TOTAL_MERGE	533479819774
+MERGE	READ_WRITE	518143337774
+MERGE	READ_WRITE_COUNT	108
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	1397764278277
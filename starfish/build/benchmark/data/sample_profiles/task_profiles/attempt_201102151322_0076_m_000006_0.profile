@@ -0,0 +1,267 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt/part-00101	0
+MAP	STARTUP_MEM	214820944
+MAP	SETUP	523000
+MAP	SETUP_MEM	214820944
+SPILL	SORT_AND_SPILL	23968847000
+SPILL	QUICK_SORT	11494638000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	11074893000
+SPILL	WRITE	5782943000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11902106
+SPILL	COMPRESS_BYTE_COUNT	4620802
+SPILL	SORT_AND_SPILL	21901680000
+SPILL	QUICK_SORT	11272475000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10558116000
+SPILL	WRITE	5373729000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11915690
+SPILL	COMPRESS_BYTE_COUNT	4666544
+SPILL	SORT_AND_SPILL	24180422000
+SPILL	QUICK_SORT	12187472000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11860409000
+SPILL	WRITE	6226044000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12155304
+SPILL	COMPRESS_BYTE_COUNT	4779778
+SPILL	SORT_AND_SPILL	22789177000
+SPILL	QUICK_SORT	12166157000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10554522000
+SPILL	WRITE	5464027000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11785230
+SPILL	COMPRESS_BYTE_COUNT	4615999
+SPILL	SORT_AND_SPILL	23232008000
+SPILL	QUICK_SORT	12550846000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	10552247000
+SPILL	WRITE	5414385000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11911364
+SPILL	COMPRESS_BYTE_COUNT	4640239
+SPILL	SORT_AND_SPILL	22042955000
+SPILL	QUICK_SORT	11444351000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10541007000
+SPILL	WRITE	5417201000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11892325
+SPILL	COMPRESS_BYTE_COUNT	4676610
+SPILL	SORT_AND_SPILL	21643773000
+SPILL	QUICK_SORT	10522346000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10524442000
+SPILL	WRITE	5411478000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11889185
+SPILL	COMPRESS_BYTE_COUNT	4643461
+SPILL	SORT_AND_SPILL	22129279000
+SPILL	QUICK_SORT	11436164000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10631677000
+SPILL	WRITE	5433075000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12081974
+SPILL	COMPRESS_BYTE_COUNT	4765744
+SPILL	SORT_AND_SPILL	21454162000
+SPILL	QUICK_SORT	10733961000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10529950000
+SPILL	WRITE	5068399000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	10572894
+SPILL	COMPRESS_BYTE_COUNT	4048158
+SPILL	SORT_AND_SPILL	21122481000
+SPILL	QUICK_SORT	10595330000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	10470825000
+SPILL	WRITE	5363036000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11780839
+SPILL	COMPRESS_BYTE_COUNT	4587405
+SPILL	SORT_AND_SPILL	22322373000
+SPILL	QUICK_SORT	11024236000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10801369000
+SPILL	WRITE	5561652000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11959207
+SPILL	COMPRESS_BYTE_COUNT	4636735
+SPILL	SORT_AND_SPILL	22234776000
+SPILL	QUICK_SORT	10893137000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11279055000
+SPILL	WRITE	5614983000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12013469
+SPILL	COMPRESS_BYTE_COUNT	4760605
+SPILL	SORT_AND_SPILL	22656595000
+SPILL	QUICK_SORT	10565861000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11964066000
+SPILL	WRITE	6377063000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11760477
+SPILL	COMPRESS_BYTE_COUNT	4539499
+SPILL	SORT_AND_SPILL	21628005000
+SPILL	QUICK_SORT	9907713000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11664052000
+SPILL	WRITE	5983285000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11618765
+SPILL	COMPRESS_BYTE_COUNT	4533905
+SPILL	SORT_AND_SPILL	22190639000
+SPILL	QUICK_SORT	11421136000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	10638500000
+SPILL	WRITE	5360421000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11764470
+SPILL	COMPRESS_BYTE_COUNT	4613104
+SPILL	SORT_AND_SPILL	23562519000
+SPILL	QUICK_SORT	10663835000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	12840199000
+SPILL	WRITE	6596164000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11799709
+SPILL	COMPRESS_BYTE_COUNT	4601136
+SPILL	SORT_AND_SPILL	25490362000
+SPILL	QUICK_SORT	10079182000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	15080586000
+SPILL	WRITE	8471212000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12382476
+SPILL	COMPRESS_BYTE_COUNT	4936488
+SPILL	SORT_AND_SPILL	21791088000
+SPILL	QUICK_SORT	11030692000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10701304000
+SPILL	WRITE	5563234000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11420041
+SPILL	COMPRESS_BYTE_COUNT	4490661
+SPILL	SORT_AND_SPILL	23893306000
+SPILL	QUICK_SORT	9979572000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	13802747000
+SPILL	WRITE	7095894000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12042173
+SPILL	COMPRESS_BYTE_COUNT	4721991
+SPILL	SORT_AND_SPILL	25638259000
+SPILL	QUICK_SORT	10960087000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	14580274000
+SPILL	WRITE	6798539000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11915084
+SPILL	COMPRESS_BYTE_COUNT	4683539
+SPILL	SORT_AND_SPILL	22256020000
+SPILL	QUICK_SORT	11701016000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10264956000
+SPILL	WRITE	5257871000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11462670
+SPILL	COMPRESS_BYTE_COUNT	4483510
+SPILL	SORT_AND_SPILL	21309146000
+SPILL	QUICK_SORT	10710640000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10541682000
+SPILL	WRITE	5473680000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11807484
+SPILL	COMPRESS_BYTE_COUNT	4582529
+SPILL	SORT_AND_SPILL	22148264000
+SPILL	QUICK_SORT	10115705000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11913530000
+SPILL	WRITE	6131150000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12099649
+SPILL	COMPRESS_BYTE_COUNT	4765262
+SPILL	SORT_AND_SPILL	20911457000
+SPILL	QUICK_SORT	10367519000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10486652000
+SPILL	WRITE	5417246000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11848095
+SPILL	COMPRESS_BYTE_COUNT	4596985
+SPILL	SORT_AND_SPILL	20850347000
+SPILL	QUICK_SORT	10017065000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	10608512000
+SPILL	WRITE	5379272000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11923440
+SPILL	COMPRESS_BYTE_COUNT	4727812
+SPILL	SORT_AND_SPILL	23168068000
+SPILL	QUICK_SORT	10162659000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	12773968000
+SPILL	WRITE	6532131000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11830362
+SPILL	COMPRESS_BYTE_COUNT	4688850
+SPILL	SORT_AND_SPILL	23468424000
+SPILL	QUICK_SORT	11201539000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	12144141000
+SPILL	WRITE	6155244000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11933546
+SPILL	COMPRESS_BYTE_COUNT	4742529
+SPILL	SORT_AND_SPILL	22166175000
+SPILL	QUICK_SORT	10259239000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11841660000
+SPILL	WRITE	6203049000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11819922
+SPILL	COMPRESS_BYTE_COUNT	4649874
+SPILL	SORT_AND_SPILL	21848940720
+SPILL	QUICK_SORT	10232465000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10895043720
+SPILL	WRITE	5679221720
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11882750
+SPILL	COMPRESS_BYTE_COUNT	4657605
+MAP	CLEANUP	106000
+MAP	CLEANUP_MEM	255240600
+MAP	TOTAL_RUN	772938009720
+MAP	READ	809452000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	128434
+MAP	VALUE_BYTE_COUNT	39614618
+MAP	MAP	772031661720
+MAP	WRITE	735592143720
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	31852667000
+MAP	SERIALIZE_OUTPUT	622784385720
+MAP	MAP_MEM	255240600
+SPILL	SORT_AND_SPILL	13419564000
+SPILL	QUICK_SORT	6449015000
+SPILL	SORT_COUNT	545489
+SPILL	COMBINE	6899643000
+SPILL	WRITE	3665471000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7827454
+SPILL	COMPRESS_BYTE_COUNT	3120932
+MERGE	TOTAL_MERGE	377683803000
+MERGE	READ_WRITE	369634327000
+MERGE	READ_WRITE_COUNT	108
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	1164627029720
@@ -0,0 +1,267 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt/part-00103	0
+MAP	STARTUP_MEM	214782480
+MAP	SETUP	509000
+MAP	SETUP_MEM	214782480
+SPILL	SORT_AND_SPILL	25243359000
+SPILL	QUICK_SORT	14432799000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	10569668000
+SPILL	WRITE	5371649000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11799596
+SPILL	COMPRESS_BYTE_COUNT	4640011
+SPILL	SORT_AND_SPILL	23071866000
+SPILL	QUICK_SORT	12089887000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10864728000
+SPILL	WRITE	5573325000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11648876
+SPILL	COMPRESS_BYTE_COUNT	4475817
+SPILL	SORT_AND_SPILL	24212070000
+SPILL	QUICK_SORT	11566049000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11306648000
+SPILL	WRITE	5791822000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12065739
+SPILL	COMPRESS_BYTE_COUNT	4738106
+SPILL	SORT_AND_SPILL	23493586000
+SPILL	QUICK_SORT	13077978000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10356222000
+SPILL	WRITE	5316435000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11791479
+SPILL	COMPRESS_BYTE_COUNT	4593681
+SPILL	SORT_AND_SPILL	22828401000
+SPILL	QUICK_SORT	12025442000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	10119264000
+SPILL	WRITE	5258664000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11479710
+SPILL	COMPRESS_BYTE_COUNT	4483853
+SPILL	SORT_AND_SPILL	24032454000
+SPILL	QUICK_SORT	12153533000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11813824000
+SPILL	WRITE	6132503000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12182255
+SPILL	COMPRESS_BYTE_COUNT	4803353
+SPILL	SORT_AND_SPILL	22849695000
+SPILL	QUICK_SORT	11604822000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10596025000
+SPILL	WRITE	5584002000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11819445
+SPILL	COMPRESS_BYTE_COUNT	4588044
+SPILL	SORT_AND_SPILL	23206562000
+SPILL	QUICK_SORT	12563323000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10581747000
+SPILL	WRITE	5261625000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11583543
+SPILL	COMPRESS_BYTE_COUNT	4515595
+SPILL	SORT_AND_SPILL	22841112000
+SPILL	QUICK_SORT	12162473000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10560643000
+SPILL	WRITE	5428812000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12058499
+SPILL	COMPRESS_BYTE_COUNT	4733915
+SPILL	SORT_AND_SPILL	22198490000
+SPILL	QUICK_SORT	11985009000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	10153674000
+SPILL	WRITE	5268168000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11652237
+SPILL	COMPRESS_BYTE_COUNT	4551298
+SPILL	SORT_AND_SPILL	23795461000
+SPILL	QUICK_SORT	12531428000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10954900000
+SPILL	WRITE	5687372000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11670533
+SPILL	COMPRESS_BYTE_COUNT	4525246
+SPILL	SORT_AND_SPILL	24071720000
+SPILL	QUICK_SORT	11076047000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	12934203000
+SPILL	WRITE	6667197000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11804839
+SPILL	COMPRESS_BYTE_COUNT	4593112
+SPILL	SORT_AND_SPILL	21631780000
+SPILL	QUICK_SORT	10935635000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10560069000
+SPILL	WRITE	5387709000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11782711
+SPILL	COMPRESS_BYTE_COUNT	4603913
+SPILL	SORT_AND_SPILL	22456779000
+SPILL	QUICK_SORT	10334686000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	12050330000
+SPILL	WRITE	6160972000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12110083
+SPILL	COMPRESS_BYTE_COUNT	4734310
+SPILL	SORT_AND_SPILL	24001025000
+SPILL	QUICK_SORT	11063680000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	12434415000
+SPILL	WRITE	5923008000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11643780
+SPILL	COMPRESS_BYTE_COUNT	4505053
+SPILL	SORT_AND_SPILL	21997138000
+SPILL	QUICK_SORT	11459537000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10469630000
+SPILL	WRITE	5373144000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11628939
+SPILL	COMPRESS_BYTE_COUNT	4553225
+SPILL	SORT_AND_SPILL	23053248000
+SPILL	QUICK_SORT	11139036000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10618803000
+SPILL	WRITE	5504503000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12048310
+SPILL	COMPRESS_BYTE_COUNT	4727861
+SPILL	SORT_AND_SPILL	23423275000
+SPILL	QUICK_SORT	12621149000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10736755000
+SPILL	WRITE	5493610000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11968173
+SPILL	COMPRESS_BYTE_COUNT	4706124
+SPILL	SORT_AND_SPILL	21626192000
+SPILL	QUICK_SORT	10738657000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10582071000
+SPILL	WRITE	5275441000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11686254
+SPILL	COMPRESS_BYTE_COUNT	4556838
+SPILL	SORT_AND_SPILL	23683113000
+SPILL	QUICK_SORT	12834978000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	10751158000
+SPILL	WRITE	5627524000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11837473
+SPILL	COMPRESS_BYTE_COUNT	4638795
+SPILL	SORT_AND_SPILL	23183410000
+SPILL	QUICK_SORT	11867587000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11087292000
+SPILL	WRITE	5787124000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11954100
+SPILL	COMPRESS_BYTE_COUNT	4755539
+SPILL	SORT_AND_SPILL	22437605000
+SPILL	QUICK_SORT	11470674000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10898559000
+SPILL	WRITE	5602144000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12072682
+SPILL	COMPRESS_BYTE_COUNT	4823882
+SPILL	SORT_AND_SPILL	23821249000
+SPILL	QUICK_SORT	12935980000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10727914000
+SPILL	WRITE	5488078000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12158399
+SPILL	COMPRESS_BYTE_COUNT	4835090
+SPILL	SORT_AND_SPILL	21571026000
+SPILL	QUICK_SORT	10889475000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10617812000
+SPILL	WRITE	5402996000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11713735
+SPILL	COMPRESS_BYTE_COUNT	4583468
+SPILL	SORT_AND_SPILL	22428349000
+SPILL	QUICK_SORT	10774014000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	10607409000
+SPILL	WRITE	5431319000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11654590
+SPILL	COMPRESS_BYTE_COUNT	4603448
+SPILL	SORT_AND_SPILL	23720737000
+SPILL	QUICK_SORT	11147422000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	12507413000
+SPILL	WRITE	6449690000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11934252
+SPILL	COMPRESS_BYTE_COUNT	4666261
+SPILL	SORT_AND_SPILL	22414226000
+SPILL	QUICK_SORT	11561347000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10435560000
+SPILL	WRITE	5439955000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11882027
+SPILL	COMPRESS_BYTE_COUNT	4615958
+SPILL	SORT_AND_SPILL	21637544000
+SPILL	QUICK_SORT	10685825000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10890755000
+SPILL	WRITE	5424594000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11909859
+SPILL	COMPRESS_BYTE_COUNT	4649666
+SPILL	SORT_AND_SPILL	22142515000
+SPILL	QUICK_SORT	11869907000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10150274000
+SPILL	WRITE	5272133000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11817184
+SPILL	COMPRESS_BYTE_COUNT	4658774
+MAP	CLEANUP	114000
+MAP	CLEANUP_MEM	280633824
+MAP	TOTAL_RUN	788109736000
+MAP	READ	659757000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	134516
+MAP	VALUE_BYTE_COUNT	39359432
+MAP	MAP	787325072000
+MAP	WRITE	740401661000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	32684548000
+MAP	SERIALIZE_OUTPUT	615386796000
+MAP	MAP_MEM	280633824
+SPILL	SORT_AND_SPILL	8947380000
+SPILL	QUICK_SORT	4510502000
+SPILL	SORT_COUNT	335545
+SPILL	COMBINE	4396260000
+SPILL	WRITE	2296109000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	5129424
+SPILL	COMPRESS_BYTE_COUNT	1990025
+MERGE	TOTAL_MERGE	430658489862
+MERGE	READ_WRITE	426059297862
+MERGE	READ_WRITE_COUNT	108
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	1228176719862
@@ -0,0 +1,267 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt/part-00108	0
+MAP	STARTUP_MEM	214821912
+MAP	SETUP	544000
+MAP	SETUP_MEM	214821912
+SPILL	SORT_AND_SPILL	24519967441
+SPILL	QUICK_SORT	12511332441
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	11734231000
+SPILL	WRITE	5561561000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11837126
+SPILL	COMPRESS_BYTE_COUNT	4623060
+SPILL	SORT_AND_SPILL	22890807000
+SPILL	QUICK_SORT	11532182000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11302544000
+SPILL	WRITE	5679683000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11634262
+SPILL	COMPRESS_BYTE_COUNT	4589836
+SPILL	SORT_AND_SPILL	24622443426
+SPILL	QUICK_SORT	12921090426
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11511954000
+SPILL	WRITE	5484129000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11863442
+SPILL	COMPRESS_BYTE_COUNT	4600187
+SPILL	SORT_AND_SPILL	24672663000
+SPILL	QUICK_SORT	10631943000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	12655787000
+SPILL	WRITE	6034436000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11755872
+SPILL	COMPRESS_BYTE_COUNT	4565381
+SPILL	SORT_AND_SPILL	25089297729
+SPILL	QUICK_SORT	11498388729
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	13537109000
+SPILL	WRITE	5914539000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11676001
+SPILL	COMPRESS_BYTE_COUNT	4583416
+SPILL	SORT_AND_SPILL	24162119000
+SPILL	QUICK_SORT	10757904000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	13025322000
+SPILL	WRITE	6267539000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11661783
+SPILL	COMPRESS_BYTE_COUNT	4531180
+SPILL	SORT_AND_SPILL	24578373578
+SPILL	QUICK_SORT	9901058000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	14601292578
+SPILL	WRITE	6941241000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11505045
+SPILL	COMPRESS_BYTE_COUNT	4490506
+SPILL	SORT_AND_SPILL	24907031000
+SPILL	QUICK_SORT	10154876000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	14444997000
+SPILL	WRITE	6609826000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12017702
+SPILL	COMPRESS_BYTE_COUNT	4727466
+SPILL	SORT_AND_SPILL	24389438425
+SPILL	QUICK_SORT	9799983000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	14533104425
+SPILL	WRITE	6657756000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11591274
+SPILL	COMPRESS_BYTE_COUNT	4545315
+SPILL	SORT_AND_SPILL	23019568000
+SPILL	QUICK_SORT	10270704000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	12599740000
+SPILL	WRITE	6105210000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11782806
+SPILL	COMPRESS_BYTE_COUNT	4573387
+SPILL	SORT_AND_SPILL	22568166287
+SPILL	QUICK_SORT	10574510000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11931277287
+SPILL	WRITE	5721270447
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11993518
+SPILL	COMPRESS_BYTE_COUNT	4739673
+SPILL	SORT_AND_SPILL	28003286000
+SPILL	QUICK_SORT	9809844000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	17026085000
+SPILL	WRITE	6623069000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11892854
+SPILL	COMPRESS_BYTE_COUNT	4680205
+SPILL	SORT_AND_SPILL	25127506578
+SPILL	QUICK_SORT	11562897000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	13238412578
+SPILL	WRITE	6639724000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12003611
+SPILL	COMPRESS_BYTE_COUNT	4723398
+SPILL	SORT_AND_SPILL	23157686000
+SPILL	QUICK_SORT	10255877000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	12844660000
+SPILL	WRITE	5916091000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11483419
+SPILL	COMPRESS_BYTE_COUNT	4538487
+SPILL	SORT_AND_SPILL	22959282000
+SPILL	QUICK_SORT	10166993000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	12405132000
+SPILL	WRITE	6076899000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12229506
+SPILL	COMPRESS_BYTE_COUNT	4797176
+SPILL	SORT_AND_SPILL	24157508000
+SPILL	QUICK_SORT	11062169000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	13030891000
+SPILL	WRITE	6077603000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11814506
+SPILL	COMPRESS_BYTE_COUNT	4723444
+SPILL	SORT_AND_SPILL	24094147000
+SPILL	QUICK_SORT	11139743000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	12841420000
+SPILL	WRITE	6207536000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11728372
+SPILL	COMPRESS_BYTE_COUNT	4561927
+SPILL	SORT_AND_SPILL	24529722000
+SPILL	QUICK_SORT	11921976000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	12547227000
+SPILL	WRITE	5883334000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	10898347
+SPILL	COMPRESS_BYTE_COUNT	4146628
+SPILL	SORT_AND_SPILL	22659042000
+SPILL	QUICK_SORT	10173017000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11697541000
+SPILL	WRITE	5490929000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11752336
+SPILL	COMPRESS_BYTE_COUNT	4611177
+SPILL	SORT_AND_SPILL	22912979577
+SPILL	QUICK_SORT	10849750577
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	11960203000
+SPILL	WRITE	5612952000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11924243
+SPILL	COMPRESS_BYTE_COUNT	4651382
+SPILL	SORT_AND_SPILL	23454687000
+SPILL	QUICK_SORT	10673424000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11945078000
+SPILL	WRITE	5580370000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11802683
+SPILL	COMPRESS_BYTE_COUNT	4587554
+SPILL	SORT_AND_SPILL	23621465729
+SPILL	QUICK_SORT	11414059729
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	12148478000
+SPILL	WRITE	5647512000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11878514
+SPILL	COMPRESS_BYTE_COUNT	4655367
+SPILL	SORT_AND_SPILL	25080302000
+SPILL	QUICK_SORT	12542112000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	12315621000
+SPILL	WRITE	5910125000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11753158
+SPILL	COMPRESS_BYTE_COUNT	4586940
+SPILL	SORT_AND_SPILL	21783157578
+SPILL	QUICK_SORT	10114768578
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11611315000
+SPILL	WRITE	5511667000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11759171
+SPILL	COMPRESS_BYTE_COUNT	4596984
+SPILL	SORT_AND_SPILL	22851656000
+SPILL	QUICK_SORT	11428147000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	11314396000
+SPILL	WRITE	5639228000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11649419
+SPILL	COMPRESS_BYTE_COUNT	4553402
+SPILL	SORT_AND_SPILL	22445574577
+SPILL	QUICK_SORT	9831057000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	12534087577
+SPILL	WRITE	5979740577
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11801848
+SPILL	COMPRESS_BYTE_COUNT	4608364
+SPILL	SORT_AND_SPILL	21942804000
+SPILL	QUICK_SORT	10242055000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11584754000
+SPILL	WRITE	5512202000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11917770
+SPILL	COMPRESS_BYTE_COUNT	4684819
+SPILL	SORT_AND_SPILL	22710008426
+SPILL	QUICK_SORT	10484305000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	12160890426
+SPILL	WRITE	5820971000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11936569
+SPILL	COMPRESS_BYTE_COUNT	4685798
+SPILL	SORT_AND_SPILL	21452451000
+SPILL	QUICK_SORT	9647770000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11621643000
+SPILL	WRITE	5683955000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11769301
+SPILL	COMPRESS_BYTE_COUNT	4604903
+MAP	CLEANUP	50000
+MAP	CLEANUP_MEM	228096840
+MAP	TOTAL_RUN	830453901354
+MAP	READ	881723000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	130221
+MAP	VALUE_BYTE_COUNT	39282942
+MAP	MAP	829470410354
+MAP	WRITE	787659567354
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	34218598000
+MAP	SERIALIZE_OUTPUT	645332829351
+MAP	MAP_MEM	228098888
+SPILL	SORT_AND_SPILL	10362696000
+SPILL	QUICK_SORT	4248048000
+SPILL	SORT_COUNT	416191
+SPILL	COMBINE	6073873000
+SPILL	WRITE	3037426000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	6335793
+SPILL	COMPRESS_BYTE_COUNT	2546784
+MERGE	TOTAL_MERGE	450814131771
+MERGE	READ_WRITE	447363137771
+MERGE	READ_WRITE_COUNT	108
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	1292093892125
@@ -0,0 +1,259 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt/part-00111	0
+MAP	STARTUP_MEM	214773832
+MAP	SETUP	526000
+MAP	SETUP_MEM	214773832
+SPILL	SORT_AND_SPILL	25716368000
+SPILL	QUICK_SORT	12045117000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	13340177000
+SPILL	WRITE	6621992000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11874405
+SPILL	COMPRESS_BYTE_COUNT	4648635
+SPILL	SORT_AND_SPILL	22955107000
+SPILL	QUICK_SORT	12171030000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10717008000
+SPILL	WRITE	5408350000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11772960
+SPILL	COMPRESS_BYTE_COUNT	4600836
+SPILL	SORT_AND_SPILL	21910989000
+SPILL	QUICK_SORT	10231205000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10324976000
+SPILL	WRITE	5463458000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11127984
+SPILL	COMPRESS_BYTE_COUNT	4311349
+SPILL	SORT_AND_SPILL	23617610000
+SPILL	QUICK_SORT	12676990000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10880617000
+SPILL	WRITE	5706439000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11686915
+SPILL	COMPRESS_BYTE_COUNT	4680206
+SPILL	SORT_AND_SPILL	22913713000
+SPILL	QUICK_SORT	11370337000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	10859959000
+SPILL	WRITE	5771985000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11902073
+SPILL	COMPRESS_BYTE_COUNT	4634991
+SPILL	SORT_AND_SPILL	22490885000
+SPILL	QUICK_SORT	11362717000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11068420000
+SPILL	WRITE	5913677000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12110414
+SPILL	COMPRESS_BYTE_COUNT	4747694
+SPILL	SORT_AND_SPILL	22921483000
+SPILL	QUICK_SORT	11939755000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10859375000
+SPILL	WRITE	5718842000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11713479
+SPILL	COMPRESS_BYTE_COUNT	4592255
+SPILL	SORT_AND_SPILL	22661269000
+SPILL	QUICK_SORT	11448862000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11152350000
+SPILL	WRITE	5786892000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12068002
+SPILL	COMPRESS_BYTE_COUNT	4689454
+SPILL	SORT_AND_SPILL	22620573000
+SPILL	QUICK_SORT	11383285000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10654254000
+SPILL	WRITE	5466590000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11317014
+SPILL	COMPRESS_BYTE_COUNT	4434221
+SPILL	SORT_AND_SPILL	21935404000
+SPILL	QUICK_SORT	11061988000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	10819252000
+SPILL	WRITE	5748406000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11679728
+SPILL	COMPRESS_BYTE_COUNT	4578052
+SPILL	SORT_AND_SPILL	23411774000
+SPILL	QUICK_SORT	10350486000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11709578000
+SPILL	WRITE	6442161000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11999264
+SPILL	COMPRESS_BYTE_COUNT	4712083
+SPILL	SORT_AND_SPILL	23060849000
+SPILL	QUICK_SORT	11157962000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11823428000
+SPILL	WRITE	6424384000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12398706
+SPILL	COMPRESS_BYTE_COUNT	4820597
+SPILL	SORT_AND_SPILL	23002982000
+SPILL	QUICK_SORT	10507660000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11932382000
+SPILL	WRITE	6320843000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12099394
+SPILL	COMPRESS_BYTE_COUNT	4761448
+SPILL	SORT_AND_SPILL	21613688000
+SPILL	QUICK_SORT	10508935000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11045091000
+SPILL	WRITE	5885305000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11886230
+SPILL	COMPRESS_BYTE_COUNT	4652386
+SPILL	SORT_AND_SPILL	23331020000
+SPILL	QUICK_SORT	10858254000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	12335297000
+SPILL	WRITE	6395189000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11786635
+SPILL	COMPRESS_BYTE_COUNT	4610636
+SPILL	SORT_AND_SPILL	22637898000
+SPILL	QUICK_SORT	11803908000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10768550000
+SPILL	WRITE	5671168000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11177751
+SPILL	COMPRESS_BYTE_COUNT	4376608
+SPILL	SORT_AND_SPILL	22331081000
+SPILL	QUICK_SORT	10679101000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11146923000
+SPILL	WRITE	5906762000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12058844
+SPILL	COMPRESS_BYTE_COUNT	4726706
+SPILL	SORT_AND_SPILL	23369111000
+SPILL	QUICK_SORT	10876987000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	12436369000
+SPILL	WRITE	6594701000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11191905
+SPILL	COMPRESS_BYTE_COUNT	4404519
+SPILL	SORT_AND_SPILL	22065906000
+SPILL	QUICK_SORT	9832609000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10788865000
+SPILL	WRITE	5749006000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11718722
+SPILL	COMPRESS_BYTE_COUNT	4614428
+SPILL	SORT_AND_SPILL	20209118000
+SPILL	QUICK_SORT	9802788000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	10356353000
+SPILL	WRITE	5393124000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11149784
+SPILL	COMPRESS_BYTE_COUNT	4417331
+SPILL	SORT_AND_SPILL	22778431000
+SPILL	QUICK_SORT	12380992000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10189796000
+SPILL	WRITE	5418627000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	10786137
+SPILL	COMPRESS_BYTE_COUNT	4245504
+SPILL	SORT_AND_SPILL	24034205000
+SPILL	QUICK_SORT	11669620000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	12311399000
+SPILL	WRITE	6148601000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11507152
+SPILL	COMPRESS_BYTE_COUNT	4543474
+SPILL	SORT_AND_SPILL	23708342000
+SPILL	QUICK_SORT	11449515000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11761905000
+SPILL	WRITE	6431072000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11772807
+SPILL	COMPRESS_BYTE_COUNT	4642062
+SPILL	SORT_AND_SPILL	23090020000
+SPILL	QUICK_SORT	10272862000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	12763171000
+SPILL	WRITE	6885241000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11519932
+SPILL	COMPRESS_BYTE_COUNT	4530824
+SPILL	SORT_AND_SPILL	25574703000
+SPILL	QUICK_SORT	11221927000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	13441072000
+SPILL	WRITE	6641115000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11325243
+SPILL	COMPRESS_BYTE_COUNT	4429584
+SPILL	SORT_AND_SPILL	21468383000
+SPILL	QUICK_SORT	10530647000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10866236000
+SPILL	WRITE	5905080000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11849096
+SPILL	COMPRESS_BYTE_COUNT	4656324
+SPILL	SORT_AND_SPILL	23239960000
+SPILL	QUICK_SORT	9601648000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	12562858000
+SPILL	WRITE	6786839000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11474645
+SPILL	COMPRESS_BYTE_COUNT	4496955
+SPILL	SORT_AND_SPILL	26588135000
+SPILL	QUICK_SORT	13193262000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	13269138000
+SPILL	WRITE	6704692000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11943489
+SPILL	COMPRESS_BYTE_COUNT	4733909
+MAP	CLEANUP	106000
+MAP	CLEANUP_MEM	243329576
+MAP	TOTAL_RUN	767263362720
+MAP	READ	1194853000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	239797
+MAP	VALUE_BYTE_COUNT	38749181
+MAP	MAP	765941698720
+MAP	WRITE	720102923720
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	28492848000
+MAP	SERIALIZE_OUTPUT	592912069000
+MAP	MAP_MEM	243331624
+SPILL	SORT_AND_SPILL	17397315000
+SPILL	QUICK_SORT	8257371000
+SPILL	SORT_COUNT	696954
+SPILL	COMBINE	9031020000
+SPILL	WRITE	4753114000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	10062371
+SPILL	COMPRESS_BYTE_COUNT	3956030
+MERGE	TOTAL_MERGE	348222368000
+MERGE	READ_WRITE	340208800000
+MERGE	READ_WRITE_COUNT	108
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	1133518465720
@@ -0,0 +1,259 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt/part-00110	0
+MAP	STARTUP_MEM	214802216
+MAP	SETUP	538000
+MAP	SETUP_MEM	214802216
+SPILL	SORT_AND_SPILL	23329417000
+SPILL	QUICK_SORT	12454133000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	10666962000
+SPILL	WRITE	5370185000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11310544
+SPILL	COMPRESS_BYTE_COUNT	4440833
+SPILL	SORT_AND_SPILL	22484078000
+SPILL	QUICK_SORT	12005877000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10429316000
+SPILL	WRITE	5294429000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11423450
+SPILL	COMPRESS_BYTE_COUNT	4430188
+SPILL	SORT_AND_SPILL	24650008000
+SPILL	QUICK_SORT	10471262000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	12539110000
+SPILL	WRITE	6509786000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11945982
+SPILL	COMPRESS_BYTE_COUNT	4608578
+SPILL	SORT_AND_SPILL	23403735000
+SPILL	QUICK_SORT	11536507000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11796802000
+SPILL	WRITE	6100363000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11979462
+SPILL	COMPRESS_BYTE_COUNT	4714546
+SPILL	SORT_AND_SPILL	21839587000
+SPILL	QUICK_SORT	10104276000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	11576473000
+SPILL	WRITE	5632202000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11791061
+SPILL	COMPRESS_BYTE_COUNT	4579537
+SPILL	SORT_AND_SPILL	22565218000
+SPILL	QUICK_SORT	10270330000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	12234341000
+SPILL	WRITE	6486979000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11889260
+SPILL	COMPRESS_BYTE_COUNT	4628574
+SPILL	SORT_AND_SPILL	21395915000
+SPILL	QUICK_SORT	10852980000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10425742000
+SPILL	WRITE	5229182000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11858718
+SPILL	COMPRESS_BYTE_COUNT	4631408
+SPILL	SORT_AND_SPILL	20723886000
+SPILL	QUICK_SORT	9837941000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10828416000
+SPILL	WRITE	5674083000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11843011
+SPILL	COMPRESS_BYTE_COUNT	4645741
+SPILL	SORT_AND_SPILL	21763646000
+SPILL	QUICK_SORT	9561984000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10919076000
+SPILL	WRITE	5687729000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11732457
+SPILL	COMPRESS_BYTE_COUNT	4601539
+SPILL	SORT_AND_SPILL	19412787000
+SPILL	QUICK_SORT	9937479000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	9403483000
+SPILL	WRITE	4687974000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	9985220
+SPILL	COMPRESS_BYTE_COUNT	3824960
+SPILL	SORT_AND_SPILL	22489891000
+SPILL	QUICK_SORT	9839373000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11292275000
+SPILL	WRITE	5706732000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11857987
+SPILL	COMPRESS_BYTE_COUNT	4641642
+SPILL	SORT_AND_SPILL	21441858000
+SPILL	QUICK_SORT	10650898000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10729906000
+SPILL	WRITE	5405406000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11360531
+SPILL	COMPRESS_BYTE_COUNT	4481961
+SPILL	SORT_AND_SPILL	21578368000
+SPILL	QUICK_SORT	10064384000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11385896000
+SPILL	WRITE	5650344000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11177475
+SPILL	COMPRESS_BYTE_COUNT	4395652
+SPILL	SORT_AND_SPILL	23457240000
+SPILL	QUICK_SORT	10501992000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	12896028000
+SPILL	WRITE	6353085000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11899401
+SPILL	COMPRESS_BYTE_COUNT	4696350
+SPILL	SORT_AND_SPILL	23416788000
+SPILL	QUICK_SORT	9810222000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	12999484000
+SPILL	WRITE	6573376000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11824706
+SPILL	COMPRESS_BYTE_COUNT	4675746
+SPILL	SORT_AND_SPILL	19194162000
+SPILL	QUICK_SORT	9306381000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	9828323000
+SPILL	WRITE	4953819000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	10203690
+SPILL	COMPRESS_BYTE_COUNT	3915663
+SPILL	SORT_AND_SPILL	22274024000
+SPILL	QUICK_SORT	9844695000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11148674000
+SPILL	WRITE	5893734000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11080052
+SPILL	COMPRESS_BYTE_COUNT	4268300
+SPILL	SORT_AND_SPILL	20095667000
+SPILL	QUICK_SORT	9846874000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10199070000
+SPILL	WRITE	4902208000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	9736446
+SPILL	COMPRESS_BYTE_COUNT	3767141
+SPILL	SORT_AND_SPILL	20128071000
+SPILL	QUICK_SORT	9978490000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10040642000
+SPILL	WRITE	5073223000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	9454409
+SPILL	COMPRESS_BYTE_COUNT	3649822
+SPILL	SORT_AND_SPILL	20937120000
+SPILL	QUICK_SORT	10979081000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	9904981000
+SPILL	WRITE	5048900000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	10925741
+SPILL	COMPRESS_BYTE_COUNT	4244262
+SPILL	SORT_AND_SPILL	21871354000
+SPILL	QUICK_SORT	11472955000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10275028000
+SPILL	WRITE	5259932000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11755576
+SPILL	COMPRESS_BYTE_COUNT	4567135
+SPILL	SORT_AND_SPILL	20914350000
+SPILL	QUICK_SORT	10064387000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10800603000
+SPILL	WRITE	5408462000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11522465
+SPILL	COMPRESS_BYTE_COUNT	4502061
+SPILL	SORT_AND_SPILL	21848197000
+SPILL	QUICK_SORT	10095981000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10639593000
+SPILL	WRITE	5583843000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11893960
+SPILL	COMPRESS_BYTE_COUNT	4683790
+SPILL	SORT_AND_SPILL	22567477000
+SPILL	QUICK_SORT	11652467000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10858821000
+SPILL	WRITE	5313459000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11301237
+SPILL	COMPRESS_BYTE_COUNT	4500746
+SPILL	SORT_AND_SPILL	20069437000
+SPILL	QUICK_SORT	9575545000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	9509933000
+SPILL	WRITE	4731316000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	10535845
+SPILL	COMPRESS_BYTE_COUNT	4066774
+SPILL	SORT_AND_SPILL	20810260000
+SPILL	QUICK_SORT	10510878000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10248097000
+SPILL	WRITE	5196600000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11652249
+SPILL	COMPRESS_BYTE_COUNT	4538122
+SPILL	SORT_AND_SPILL	20807456975
+SPILL	QUICK_SORT	9878893000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10411240975
+SPILL	WRITE	5368648000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11895167
+SPILL	COMPRESS_BYTE_COUNT	4639588
+SPILL	SORT_AND_SPILL	20776004000
+SPILL	QUICK_SORT	9759379000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10951305000
+SPILL	WRITE	5460792000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11918240
+SPILL	COMPRESS_BYTE_COUNT	4658279
+MAP	CLEANUP	106000
+MAP	CLEANUP_MEM	223283312
+MAP	TOTAL_RUN	727212485975
+MAP	READ	914886000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	139460
+MAP	VALUE_BYTE_COUNT	38052515
+MAP	MAP	726210519975
+MAP	WRITE	691024517975
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	28316078000
+MAP	SERIALIZE_OUTPUT	579813676975
+MAP	MAP_MEM	223283312
+SPILL	SORT_AND_SPILL	14172787000
+SPILL	QUICK_SORT	5779452000
+SPILL	SORT_COUNT	522210
+SPILL	COMBINE	8276245000
+SPILL	WRITE	3886177000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7640112
+SPILL	COMPRESS_BYTE_COUNT	2977909
+MERGE	TOTAL_MERGE	318763703000
+MERGE	READ_WRITE	310773909000
+MERGE	READ_WRITE_COUNT	108
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	1060864123975
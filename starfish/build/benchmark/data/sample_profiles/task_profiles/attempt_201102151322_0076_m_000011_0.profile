@@ -0,0 +1,259 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt/part-00112	0
+MAP	STARTUP_MEM	213962392
+MAP	SETUP	515000
+MAP	SETUP_MEM	213962392
+SPILL	SORT_AND_SPILL	28074629000
+SPILL	QUICK_SORT	14414685000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	13469198000
+SPILL	WRITE	6648317000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11758394
+SPILL	COMPRESS_BYTE_COUNT	4613021
+SPILL	SORT_AND_SPILL	24948124162
+SPILL	QUICK_SORT	12387286000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	12166966162
+SPILL	WRITE	6040987162
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12032818
+SPILL	COMPRESS_BYTE_COUNT	4762037
+SPILL	SORT_AND_SPILL	25363201000
+SPILL	QUICK_SORT	12409136000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	12680023000
+SPILL	WRITE	6450595000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11806802
+SPILL	COMPRESS_BYTE_COUNT	4592468
+SPILL	SORT_AND_SPILL	25518068642
+SPILL	QUICK_SORT	12021055000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	13294843642
+SPILL	WRITE	6186357642
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12143118
+SPILL	COMPRESS_BYTE_COUNT	4682949
+SPILL	SORT_AND_SPILL	25333971000
+SPILL	QUICK_SORT	11643858000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	13384796000
+SPILL	WRITE	6344691000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12114313
+SPILL	COMPRESS_BYTE_COUNT	4787338
+SPILL	SORT_AND_SPILL	24258260489
+SPILL	QUICK_SORT	9887777000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	14304772489
+SPILL	WRITE	7343273000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11871494
+SPILL	COMPRESS_BYTE_COUNT	4677461
+SPILL	SORT_AND_SPILL	26854209000
+SPILL	QUICK_SORT	10218999000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	14901562000
+SPILL	WRITE	6714643000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11890281
+SPILL	COMPRESS_BYTE_COUNT	4629236
+SPILL	SORT_AND_SPILL	23222385642
+SPILL	QUICK_SORT	10002152000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	13156697642
+SPILL	WRITE	6213611000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11691219
+SPILL	COMPRESS_BYTE_COUNT	4592810
+SPILL	SORT_AND_SPILL	22696345000
+SPILL	QUICK_SORT	10664337000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11841103000
+SPILL	WRITE	5432245000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11838678
+SPILL	COMPRESS_BYTE_COUNT	4620650
+SPILL	SORT_AND_SPILL	23999672641
+SPILL	QUICK_SORT	9950906000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	13985078641
+SPILL	WRITE	6353628641
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12045486
+SPILL	COMPRESS_BYTE_COUNT	4771705
+SPILL	SORT_AND_SPILL	24999542000
+SPILL	QUICK_SORT	10797154000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	13619489000
+SPILL	WRITE	6273319000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11308651
+SPILL	COMPRESS_BYTE_COUNT	4419995
+SPILL	SORT_AND_SPILL	25611255794
+SPILL	QUICK_SORT	11196397000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	13975810794
+SPILL	WRITE	6595464000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11528284
+SPILL	COMPRESS_BYTE_COUNT	4553166
+SPILL	SORT_AND_SPILL	24132162000
+SPILL	QUICK_SORT	10480661000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	13386403000
+SPILL	WRITE	6594604000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11273821
+SPILL	COMPRESS_BYTE_COUNT	4444238
+SPILL	SORT_AND_SPILL	23540930490
+SPILL	QUICK_SORT	10168566000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	13313071490
+SPILL	WRITE	5873347490
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11345347
+SPILL	COMPRESS_BYTE_COUNT	4456742
+SPILL	SORT_AND_SPILL	24377336000
+SPILL	QUICK_SORT	10360036000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	13884038000
+SPILL	WRITE	6218404000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11764430
+SPILL	COMPRESS_BYTE_COUNT	4618022
+SPILL	SORT_AND_SPILL	22865725641
+SPILL	QUICK_SORT	10380172000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	12423098641
+SPILL	WRITE	6041553000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11807068
+SPILL	COMPRESS_BYTE_COUNT	4610621
+SPILL	SORT_AND_SPILL	21830202000
+SPILL	QUICK_SORT	10104111000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11531586000
+SPILL	WRITE	5583823000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11293288
+SPILL	COMPRESS_BYTE_COUNT	4419562
+SPILL	SORT_AND_SPILL	24207316000
+SPILL	QUICK_SORT	10941771000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	13114109000
+SPILL	WRITE	6068324000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11825141
+SPILL	COMPRESS_BYTE_COUNT	4673228
+SPILL	SORT_AND_SPILL	28403726000
+SPILL	QUICK_SORT	12640735000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	14176909000
+SPILL	WRITE	6058504000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	10948594
+SPILL	COMPRESS_BYTE_COUNT	4228358
+SPILL	SORT_AND_SPILL	25095271641
+SPILL	QUICK_SORT	10132252000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	14809749641
+SPILL	WRITE	6760490000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11905238
+SPILL	COMPRESS_BYTE_COUNT	4629171
+SPILL	SORT_AND_SPILL	26376546000
+SPILL	QUICK_SORT	10584675000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	15735034000
+SPILL	WRITE	6594696000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11411162
+SPILL	COMPRESS_BYTE_COUNT	4435534
+SPILL	SORT_AND_SPILL	21578372490
+SPILL	QUICK_SORT	10487706000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10948488490
+SPILL	WRITE	5408274490
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	10968158
+SPILL	COMPRESS_BYTE_COUNT	4263479
+SPILL	SORT_AND_SPILL	26516046000
+SPILL	QUICK_SORT	11708575000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	14740183000
+SPILL	WRITE	6083301000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12240385
+SPILL	COMPRESS_BYTE_COUNT	4839619
+SPILL	SORT_AND_SPILL	26265427642
+SPILL	QUICK_SORT	12272047000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	13516458642
+SPILL	WRITE	6169893000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11639046
+SPILL	COMPRESS_BYTE_COUNT	4583490
+SPILL	SORT_AND_SPILL	25767261000
+SPILL	QUICK_SORT	11022360000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	14610360000
+SPILL	WRITE	7057053000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11808528
+SPILL	COMPRESS_BYTE_COUNT	4654366
+SPILL	SORT_AND_SPILL	24754300641
+SPILL	QUICK_SORT	10847064000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	13714096641
+SPILL	WRITE	6280624000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12049282
+SPILL	COMPRESS_BYTE_COUNT	4699730
+SPILL	SORT_AND_SPILL	25758368000
+SPILL	QUICK_SORT	12324454000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	13371098000
+SPILL	WRITE	6516938000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11840378
+SPILL	COMPRESS_BYTE_COUNT	4635129
+MAP	CLEANUP	67642000
+MAP	CLEANUP_MEM	240838608
+MAP	TOTAL_RUN	816991135709
+MAP	READ	768838000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	129566
+MAP	VALUE_BYTE_COUNT	37655752
+MAP	MAP	816062031709
+MAP	WRITE	776347071709
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	34134943000
+MAP	SERIALIZE_OUTPUT	639325628709
+MAP	MAP_MEM	240994984
+SPILL	SORT_AND_SPILL	24398526794
+SPILL	QUICK_SORT	11831048000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	12297441794
+SPILL	WRITE	5982656000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11862026
+SPILL	COMPRESS_BYTE_COUNT	4640390
+SPILL	SORT_AND_SPILL	2583806000
+SPILL	QUICK_SORT	993127000
+SPILL	SORT_COUNT	104870
+SPILL	COMBINE	1459055000
+SPILL	WRITE	696685000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	1659008
+SPILL	COMPRESS_BYTE_COUNT	630360
+MERGE	TOTAL_MERGE	489660353981
+MERGE	READ_WRITE	475170159491
+MERGE	READ_WRITE_COUNT	108
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	1332269924484
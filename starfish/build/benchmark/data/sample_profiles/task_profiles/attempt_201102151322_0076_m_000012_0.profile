@@ -0,0 +1,251 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt/part-00113	0
+MAP	STARTUP_MEM	214820448
+MAP	SETUP	529000
+MAP	SETUP_MEM	214820448
+SPILL	SORT_AND_SPILL	24442775000
+SPILL	QUICK_SORT	12428750000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	10899098000
+SPILL	WRITE	5463384000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12131473
+SPILL	COMPRESS_BYTE_COUNT	4820290
+SPILL	SORT_AND_SPILL	24097168000
+SPILL	QUICK_SORT	13368357000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10660922000
+SPILL	WRITE	5445367000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12191867
+SPILL	COMPRESS_BYTE_COUNT	4767798
+SPILL	SORT_AND_SPILL	22720050000
+SPILL	QUICK_SORT	12027135000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10534700000
+SPILL	WRITE	5265850000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11561997
+SPILL	COMPRESS_BYTE_COUNT	4535419
+SPILL	SORT_AND_SPILL	22686197000
+SPILL	QUICK_SORT	12221560000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10389767000
+SPILL	WRITE	5280628000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11736118
+SPILL	COMPRESS_BYTE_COUNT	4671058
+SPILL	SORT_AND_SPILL	21863706000
+SPILL	QUICK_SORT	11177851000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	10541701000
+SPILL	WRITE	5383387000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11952341
+SPILL	COMPRESS_BYTE_COUNT	4656251
+SPILL	SORT_AND_SPILL	21366222000
+SPILL	QUICK_SORT	10668855000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10624320000
+SPILL	WRITE	5397420000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11967030
+SPILL	COMPRESS_BYTE_COUNT	4721021
+SPILL	SORT_AND_SPILL	23114955834
+SPILL	QUICK_SORT	10371883000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	12612794834
+SPILL	WRITE	6348423000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11664585
+SPILL	COMPRESS_BYTE_COUNT	4607720
+SPILL	SORT_AND_SPILL	21120609000
+SPILL	QUICK_SORT	10513847000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10537123000
+SPILL	WRITE	5516296000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11935060
+SPILL	COMPRESS_BYTE_COUNT	4696886
+SPILL	SORT_AND_SPILL	25017305000
+SPILL	QUICK_SORT	10510421000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	14312393000
+SPILL	WRITE	6772333000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11870750
+SPILL	COMPRESS_BYTE_COUNT	4651912
+SPILL	SORT_AND_SPILL	22097689000
+SPILL	QUICK_SORT	10188275000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	11817743000
+SPILL	WRITE	5822538000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11911107
+SPILL	COMPRESS_BYTE_COUNT	4669737
+SPILL	SORT_AND_SPILL	22264896000
+SPILL	QUICK_SORT	10320447000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11072932000
+SPILL	WRITE	5738148000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11993024
+SPILL	COMPRESS_BYTE_COUNT	4760680
+SPILL	SORT_AND_SPILL	23336944000
+SPILL	QUICK_SORT	11091183000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	12178286000
+SPILL	WRITE	6247317000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11882987
+SPILL	COMPRESS_BYTE_COUNT	4623848
+SPILL	SORT_AND_SPILL	23835705000
+SPILL	QUICK_SORT	10191021000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	12707012000
+SPILL	WRITE	5937629000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11653324
+SPILL	COMPRESS_BYTE_COUNT	4543941
+SPILL	SORT_AND_SPILL	23598645000
+SPILL	QUICK_SORT	10228139000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	13308618000
+SPILL	WRITE	6840280000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11668142
+SPILL	COMPRESS_BYTE_COUNT	4540456
+SPILL	SORT_AND_SPILL	23171286000
+SPILL	QUICK_SORT	11027711000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	11602945000
+SPILL	WRITE	5978072000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11515744
+SPILL	COMPRESS_BYTE_COUNT	4522148
+SPILL	SORT_AND_SPILL	20188688000
+SPILL	QUICK_SORT	10154578000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	9969543000
+SPILL	WRITE	5010316000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11130873
+SPILL	COMPRESS_BYTE_COUNT	4409323
+SPILL	SORT_AND_SPILL	20955258000
+SPILL	QUICK_SORT	9728735000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11102933000
+SPILL	WRITE	5712070000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	10024646
+SPILL	COMPRESS_BYTE_COUNT	3914435
+SPILL	SORT_AND_SPILL	20860710000
+SPILL	QUICK_SORT	10390623000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10395947000
+SPILL	WRITE	4886801000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	10405777
+SPILL	COMPRESS_BYTE_COUNT	4079323
+SPILL	SORT_AND_SPILL	24667888000
+SPILL	QUICK_SORT	11113400000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	12794681000
+SPILL	WRITE	6629509000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11980268
+SPILL	COMPRESS_BYTE_COUNT	4724728
+SPILL	SORT_AND_SPILL	17334119000
+SPILL	QUICK_SORT	8505207000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	8734472000
+SPILL	WRITE	4224851000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	8916583
+SPILL	COMPRESS_BYTE_COUNT	3470363
+SPILL	SORT_AND_SPILL	22847488000
+SPILL	QUICK_SORT	10907044000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10596083000
+SPILL	WRITE	5600620000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11949090
+SPILL	COMPRESS_BYTE_COUNT	4689915
+SPILL	SORT_AND_SPILL	21745699000
+SPILL	QUICK_SORT	11367745000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10297370000
+SPILL	WRITE	5218310000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11446967
+SPILL	COMPRESS_BYTE_COUNT	4501743
+SPILL	SORT_AND_SPILL	20420117000
+SPILL	QUICK_SORT	10179151000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	8958799000
+SPILL	WRITE	4419863000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	9889508
+SPILL	COMPRESS_BYTE_COUNT	3909844
+SPILL	SORT_AND_SPILL	22620458000
+SPILL	QUICK_SORT	11976893000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10543436000
+SPILL	WRITE	5368285000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11806080
+SPILL	COMPRESS_BYTE_COUNT	4648290
+SPILL	SORT_AND_SPILL	23357681000
+SPILL	QUICK_SORT	11854557000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	10445496000
+SPILL	WRITE	5306381000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11899452
+SPILL	COMPRESS_BYTE_COUNT	4715125
+SPILL	SORT_AND_SPILL	21162923000
+SPILL	QUICK_SORT	11266050000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	9843925000
+SPILL	WRITE	4799834000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	10905482
+SPILL	COMPRESS_BYTE_COUNT	4287314
+SPILL	SORT_AND_SPILL	23202261000
+SPILL	QUICK_SORT	11500719000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10305773000
+SPILL	WRITE	5309309000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11442766
+SPILL	COMPRESS_BYTE_COUNT	4473188
+MAP	CLEANUP	115000
+MAP	CLEANUP_MEM	265048912
+MAP	TOTAL_RUN	713734505834
+MAP	READ	1030581000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	119637
+MAP	VALUE_BYTE_COUNT	37005233
+MAP	MAP	712630045834
+MAP	WRITE	670633530834
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	36832548000
+MAP	SERIALIZE_OUTPUT	548252253834
+MAP	MAP_MEM	265048912
+SPILL	SORT_AND_SPILL	14696886000
+SPILL	QUICK_SORT	5689752000
+SPILL	SORT_COUNT	526695
+SPILL	COMBINE	8947340000
+SPILL	WRITE	4156825000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	6348302
+SPILL	COMPRESS_BYTE_COUNT	2482965
+MERGE	TOTAL_MERGE	329602377000
+MERGE	READ_WRITE	327757289000
+MERGE	READ_WRITE_COUNT	81
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	1058521015834
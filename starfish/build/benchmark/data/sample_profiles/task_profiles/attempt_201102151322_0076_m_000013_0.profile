@@ -0,0 +1,251 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt/part-00107	0
+MAP	STARTUP_MEM	213978088
+MAP	SETUP	464000
+MAP	SETUP_MEM	213978088
+SPILL	SORT_AND_SPILL	22012389000
+SPILL	QUICK_SORT	11035576000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	10257979000
+SPILL	WRITE	5194463000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11276200
+SPILL	COMPRESS_BYTE_COUNT	4450136
+SPILL	SORT_AND_SPILL	22361368000
+SPILL	QUICK_SORT	12099341000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10209596000
+SPILL	WRITE	5310778000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11452122
+SPILL	COMPRESS_BYTE_COUNT	4497040
+SPILL	SORT_AND_SPILL	20915188000
+SPILL	QUICK_SORT	10083184000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	9846183000
+SPILL	WRITE	5046752000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11179746
+SPILL	COMPRESS_BYTE_COUNT	4374270
+SPILL	SORT_AND_SPILL	20833109000
+SPILL	QUICK_SORT	10772412000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10013973000
+SPILL	WRITE	5068945000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11054789
+SPILL	COMPRESS_BYTE_COUNT	4271691
+SPILL	SORT_AND_SPILL	22254755000
+SPILL	QUICK_SORT	10382855000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	10487627000
+SPILL	WRITE	5593791000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11768568
+SPILL	COMPRESS_BYTE_COUNT	4622593
+SPILL	SORT_AND_SPILL	21821631000
+SPILL	QUICK_SORT	12108923000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	9667942000
+SPILL	WRITE	4887081000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	10996773
+SPILL	COMPRESS_BYTE_COUNT	4336354
+SPILL	SORT_AND_SPILL	21571396000
+SPILL	QUICK_SORT	9937303000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10691525000
+SPILL	WRITE	5364228000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11914708
+SPILL	COMPRESS_BYTE_COUNT	4648985
+SPILL	SORT_AND_SPILL	22866239000
+SPILL	QUICK_SORT	11568130000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11241918000
+SPILL	WRITE	6028082000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11875962
+SPILL	COMPRESS_BYTE_COUNT	4664710
+SPILL	SORT_AND_SPILL	22956334000
+SPILL	QUICK_SORT	10048922000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11876901000
+SPILL	WRITE	6439319000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12081586
+SPILL	COMPRESS_BYTE_COUNT	4715847
+SPILL	SORT_AND_SPILL	21675058000
+SPILL	QUICK_SORT	11143045000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	10476079000
+SPILL	WRITE	5421455000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12036130
+SPILL	COMPRESS_BYTE_COUNT	4655549
+SPILL	SORT_AND_SPILL	21742176454
+SPILL	QUICK_SORT	11029829454
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10559894000
+SPILL	WRITE	5442257000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11666832
+SPILL	COMPRESS_BYTE_COUNT	4543523
+SPILL	SORT_AND_SPILL	19738084000
+SPILL	QUICK_SORT	10418073000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	9263096000
+SPILL	WRITE	4761757000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	10136147
+SPILL	COMPRESS_BYTE_COUNT	3924351
+SPILL	SORT_AND_SPILL	24217041000
+SPILL	QUICK_SORT	11741715000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	12328685000
+SPILL	WRITE	6555411000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11571378
+SPILL	COMPRESS_BYTE_COUNT	4481179
+SPILL	SORT_AND_SPILL	21369227000
+SPILL	QUICK_SORT	10944764000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10369256000
+SPILL	WRITE	5391800000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11852166
+SPILL	COMPRESS_BYTE_COUNT	4641331
+SPILL	SORT_AND_SPILL	21859605000
+SPILL	QUICK_SORT	10141402000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	11258719000
+SPILL	WRITE	5501570000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11932179
+SPILL	COMPRESS_BYTE_COUNT	4627258
+SPILL	SORT_AND_SPILL	21360021000
+SPILL	QUICK_SORT	10929683000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10375129000
+SPILL	WRITE	5447299000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12000161
+SPILL	COMPRESS_BYTE_COUNT	4689490
+SPILL	SORT_AND_SPILL	24785540000
+SPILL	QUICK_SORT	11207267000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	13288314000
+SPILL	WRITE	6622006000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11735812
+SPILL	COMPRESS_BYTE_COUNT	4562242
+SPILL	SORT_AND_SPILL	21123307000
+SPILL	QUICK_SORT	10497220000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10572026000
+SPILL	WRITE	5695562000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11911464
+SPILL	COMPRESS_BYTE_COUNT	4613958
+SPILL	SORT_AND_SPILL	22402757000
+SPILL	QUICK_SORT	10556191000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11384575000
+SPILL	WRITE	5670753000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11892159
+SPILL	COMPRESS_BYTE_COUNT	4648948
+SPILL	SORT_AND_SPILL	21381289000
+SPILL	QUICK_SORT	9636108000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	11689696000
+SPILL	WRITE	6196153000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11583779
+SPILL	COMPRESS_BYTE_COUNT	4524335
+SPILL	SORT_AND_SPILL	22281253000
+SPILL	QUICK_SORT	9853563000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	12307489000
+SPILL	WRITE	6436671000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11745743
+SPILL	COMPRESS_BYTE_COUNT	4589096
+SPILL	SORT_AND_SPILL	24918818000
+SPILL	QUICK_SORT	11251071000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	13608265000
+SPILL	WRITE	6744204000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11874407
+SPILL	COMPRESS_BYTE_COUNT	4644578
+SPILL	SORT_AND_SPILL	22294479000
+SPILL	QUICK_SORT	10109263000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11870600000
+SPILL	WRITE	6207680000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11935799
+SPILL	COMPRESS_BYTE_COUNT	4659591
+SPILL	SORT_AND_SPILL	22488452000
+SPILL	QUICK_SORT	10324931000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	12104392000
+SPILL	WRITE	5848430000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11922790
+SPILL	COMPRESS_BYTE_COUNT	4648290
+SPILL	SORT_AND_SPILL	21085461000
+SPILL	QUICK_SORT	10062179000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	10377306000
+SPILL	WRITE	5335243000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11792853
+SPILL	COMPRESS_BYTE_COUNT	4633139
+SPILL	SORT_AND_SPILL	21845619000
+SPILL	QUICK_SORT	9780135000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11871871000
+SPILL	WRITE	5708083000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11950065
+SPILL	COMPRESS_BYTE_COUNT	4671129
+SPILL	SORT_AND_SPILL	23330090000
+SPILL	QUICK_SORT	10542272000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	12059219000
+SPILL	WRITE	6069962000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11957758
+SPILL	COMPRESS_BYTE_COUNT	4657409
+MAP	CLEANUP	125000
+MAP	CLEANUP_MEM	222310600
+MAP	TOTAL_RUN	719779996454
+MAP	READ	9129899000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	117119
+MAP	VALUE_BYTE_COUNT	36844307
+MAP	MAP	710571832454
+MAP	WRITE	669535988454
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	29260558000
+MAP	SERIALIZE_OUTPUT	548708269000
+MAP	MAP_MEM	222310600
+SPILL	SORT_AND_SPILL	14032240000
+SPILL	QUICK_SORT	6273559000
+SPILL	SORT_COUNT	572921
+SPILL	COMBINE	7708072000
+SPILL	WRITE	3916496000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	8397498
+SPILL	COMPRESS_BYTE_COUNT	3316685
+MERGE	TOTAL_MERGE	312250618000
+MERGE	READ_WRITE	310176961000
+MERGE	READ_WRITE_COUNT	81
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	1046510156454
@@ -0,0 +1,251 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt/part-00118	0
+MAP	STARTUP_MEM	214815800
+MAP	SETUP	537000
+MAP	SETUP_MEM	214815800
+SPILL	SORT_AND_SPILL	22473418000
+SPILL	QUICK_SORT	11696668000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	10567655000
+SPILL	WRITE	5312791000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11861121
+SPILL	COMPRESS_BYTE_COUNT	4683707
+SPILL	SORT_AND_SPILL	21125414000
+SPILL	QUICK_SORT	10232967000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10839136000
+SPILL	WRITE	5671781000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11544579
+SPILL	COMPRESS_BYTE_COUNT	4549590
+SPILL	SORT_AND_SPILL	22250041000
+SPILL	QUICK_SORT	9843697000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11041767000
+SPILL	WRITE	5676369000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11581659
+SPILL	COMPRESS_BYTE_COUNT	4510104
+SPILL	SORT_AND_SPILL	21967304000
+SPILL	QUICK_SORT	11409281000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10498476000
+SPILL	WRITE	5445959000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12157717
+SPILL	COMPRESS_BYTE_COUNT	4792980
+SPILL	SORT_AND_SPILL	21086088000
+SPILL	QUICK_SORT	10316346000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	10197948000
+SPILL	WRITE	5244798000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11622161
+SPILL	COMPRESS_BYTE_COUNT	4553418
+SPILL	SORT_AND_SPILL	22201249000
+SPILL	QUICK_SORT	10941325000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11207013000
+SPILL	WRITE	5542573000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11798516
+SPILL	COMPRESS_BYTE_COUNT	4599065
+SPILL	SORT_AND_SPILL	24859368000
+SPILL	QUICK_SORT	12670897000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11926539000
+SPILL	WRITE	5996640000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12222920
+SPILL	COMPRESS_BYTE_COUNT	4851073
+SPILL	SORT_AND_SPILL	22632682000
+SPILL	QUICK_SORT	9806181000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	12776884000
+SPILL	WRITE	6304933000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11388284
+SPILL	COMPRESS_BYTE_COUNT	4411772
+SPILL	SORT_AND_SPILL	22207192000
+SPILL	QUICK_SORT	10663781000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11264617000
+SPILL	WRITE	5641646000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11884748
+SPILL	COMPRESS_BYTE_COUNT	4675475
+SPILL	SORT_AND_SPILL	21690384000
+SPILL	QUICK_SORT	9981495000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	11646753000
+SPILL	WRITE	5624792000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11833086
+SPILL	COMPRESS_BYTE_COUNT	4676834
+SPILL	SORT_AND_SPILL	22993465000
+SPILL	QUICK_SORT	9469555000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	12130325000
+SPILL	WRITE	6039625000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11920443
+SPILL	COMPRESS_BYTE_COUNT	4641944
+SPILL	SORT_AND_SPILL	23245262323
+SPILL	QUICK_SORT	10098073323
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	13092076000
+SPILL	WRITE	6795366000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11730252
+SPILL	COMPRESS_BYTE_COUNT	4600701
+SPILL	SORT_AND_SPILL	21422727000
+SPILL	QUICK_SORT	10325958000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10947437000
+SPILL	WRITE	5520973000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11567569
+SPILL	COMPRESS_BYTE_COUNT	4528009
+SPILL	SORT_AND_SPILL	23186390000
+SPILL	QUICK_SORT	10508268000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	12495331000
+SPILL	WRITE	6315073000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11814043
+SPILL	COMPRESS_BYTE_COUNT	4602960
+SPILL	SORT_AND_SPILL	24637881000
+SPILL	QUICK_SORT	10227648000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	14270180000
+SPILL	WRITE	7477923000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11546562
+SPILL	COMPRESS_BYTE_COUNT	4514999
+SPILL	SORT_AND_SPILL	20878315000
+SPILL	QUICK_SORT	10021266000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10792600000
+SPILL	WRITE	5460069000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11710020
+SPILL	COMPRESS_BYTE_COUNT	4561910
+SPILL	SORT_AND_SPILL	21208800000
+SPILL	QUICK_SORT	9733807000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11345938000
+SPILL	WRITE	5427048000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11565990
+SPILL	COMPRESS_BYTE_COUNT	4534920
+SPILL	SORT_AND_SPILL	21658569000
+SPILL	QUICK_SORT	9702473000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11829126000
+SPILL	WRITE	5953392000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11526662
+SPILL	COMPRESS_BYTE_COUNT	4526301
+SPILL	SORT_AND_SPILL	23067987000
+SPILL	QUICK_SORT	10034568000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	12410301000
+SPILL	WRITE	6392500000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11664724
+SPILL	COMPRESS_BYTE_COUNT	4610272
+SPILL	SORT_AND_SPILL	20990282000
+SPILL	QUICK_SORT	10714985000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	10219184000
+SPILL	WRITE	5219784000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11740526
+SPILL	COMPRESS_BYTE_COUNT	4658931
+SPILL	SORT_AND_SPILL	23345694000
+SPILL	QUICK_SORT	10894979000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	12295314000
+SPILL	WRITE	6582618000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11772711
+SPILL	COMPRESS_BYTE_COUNT	4619332
+SPILL	SORT_AND_SPILL	23014599000
+SPILL	QUICK_SORT	10444279000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	12513607000
+SPILL	WRITE	5865641000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11930276
+SPILL	COMPRESS_BYTE_COUNT	4699646
+SPILL	SORT_AND_SPILL	21384900000
+SPILL	QUICK_SORT	9163749000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10363685000
+SPILL	WRITE	4998800000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	10304166
+SPILL	COMPRESS_BYTE_COUNT	4112743
+SPILL	SORT_AND_SPILL	19759701000
+SPILL	QUICK_SORT	9541633000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10174055000
+SPILL	WRITE	5139496000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	10820809
+SPILL	COMPRESS_BYTE_COUNT	4317024
+SPILL	SORT_AND_SPILL	23581144000
+SPILL	QUICK_SORT	10555574000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	12742981000
+SPILL	WRITE	6392560000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11205561
+SPILL	COMPRESS_BYTE_COUNT	4428431
+SPILL	SORT_AND_SPILL	19694288000
+SPILL	QUICK_SORT	10256751000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	9385731000
+SPILL	WRITE	4784453000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	10650242
+SPILL	COMPRESS_BYTE_COUNT	4198415
+MAP	CLEANUP	107000
+MAP	CLEANUP_MEM	238225496
+MAP	TOTAL_RUN	692338585323
+MAP	READ	718478000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	159127
+MAP	VALUE_BYTE_COUNT	36585099
+MAP	MAP	691532516323
+MAP	WRITE	648887286323
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	30853027000
+MAP	SERIALIZE_OUTPUT	523075375000
+MAP	MAP_MEM	238225496
+SPILL	SORT_AND_SPILL	22150930000
+SPILL	QUICK_SORT	11822685000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10053595000
+SPILL	WRITE	5285038000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	10839961
+SPILL	COMPRESS_BYTE_COUNT	4283303
+SPILL	SORT_AND_SPILL	4706518000
+SPILL	QUICK_SORT	1934189000
+SPILL	SORT_COUNT	207121
+SPILL	COMBINE	2742272000
+SPILL	WRITE	1367786000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	3137880
+SPILL	COMPRESS_BYTE_COUNT	1218604
+MERGE	TOTAL_MERGE	291839589000
+MERGE	READ_WRITE	290609725000
+MERGE	READ_WRITE_COUNT	81
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	1005755616323
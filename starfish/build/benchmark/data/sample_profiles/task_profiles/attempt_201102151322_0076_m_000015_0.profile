@@ -0,0 +1,243 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt/part-00117	0
+MAP	STARTUP_MEM	214807312
+MAP	SETUP	540000
+MAP	SETUP_MEM	214807312
+SPILL	SORT_AND_SPILL	24576000000
+SPILL	QUICK_SORT	13519565000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	9997686000
+SPILL	WRITE	4897990000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11001586
+SPILL	COMPRESS_BYTE_COUNT	4315944
+SPILL	SORT_AND_SPILL	23375633000
+SPILL	QUICK_SORT	12625701000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10603998000
+SPILL	WRITE	5310875000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11527881
+SPILL	COMPRESS_BYTE_COUNT	4531212
+SPILL	SORT_AND_SPILL	24412689000
+SPILL	QUICK_SORT	12037438000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11730574000
+SPILL	WRITE	6081789000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11833879
+SPILL	COMPRESS_BYTE_COUNT	4681855
+SPILL	SORT_AND_SPILL	22994174000
+SPILL	QUICK_SORT	12642254000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10292047000
+SPILL	WRITE	5257311000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11785601
+SPILL	COMPRESS_BYTE_COUNT	4605519
+SPILL	SORT_AND_SPILL	23964559000
+SPILL	QUICK_SORT	12738317000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	10537355000
+SPILL	WRITE	5428555000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12101538
+SPILL	COMPRESS_BYTE_COUNT	4779989
+SPILL	SORT_AND_SPILL	23527598000
+SPILL	QUICK_SORT	12674915000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10793633000
+SPILL	WRITE	5441388000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11840152
+SPILL	COMPRESS_BYTE_COUNT	4599785
+SPILL	SORT_AND_SPILL	21539935000
+SPILL	QUICK_SORT	11308576000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	9586375000
+SPILL	WRITE	4834594000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11279802
+SPILL	COMPRESS_BYTE_COUNT	4141679
+SPILL	SORT_AND_SPILL	22891703000
+SPILL	QUICK_SORT	13112522000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	9726898000
+SPILL	WRITE	4976123000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11041960
+SPILL	COMPRESS_BYTE_COUNT	4385491
+SPILL	SORT_AND_SPILL	20791692000
+SPILL	QUICK_SORT	11134058000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	9553011000
+SPILL	WRITE	4877330000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	10760826
+SPILL	COMPRESS_BYTE_COUNT	4240103
+SPILL	SORT_AND_SPILL	22544001000
+SPILL	QUICK_SORT	12321379000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	10158780000
+SPILL	WRITE	5118990000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	10477070
+SPILL	COMPRESS_BYTE_COUNT	4125140
+SPILL	SORT_AND_SPILL	21945456000
+SPILL	QUICK_SORT	11504847000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10294602000
+SPILL	WRITE	5283888000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11289182
+SPILL	COMPRESS_BYTE_COUNT	4502740
+SPILL	SORT_AND_SPILL	25282167000
+SPILL	QUICK_SORT	14642437000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10578357000
+SPILL	WRITE	5325831000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	10722561
+SPILL	COMPRESS_BYTE_COUNT	4187007
+SPILL	SORT_AND_SPILL	25675460000
+SPILL	QUICK_SORT	11785986000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	13212188000
+SPILL	WRITE	6394588000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11988487
+SPILL	COMPRESS_BYTE_COUNT	4689215
+SPILL	SORT_AND_SPILL	21350990000
+SPILL	QUICK_SORT	10718070000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10516346000
+SPILL	WRITE	5291506000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11656819
+SPILL	COMPRESS_BYTE_COUNT	4558754
+SPILL	SORT_AND_SPILL	20473413000
+SPILL	QUICK_SORT	10447352000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	9959615000
+SPILL	WRITE	4998466000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	10666255
+SPILL	COMPRESS_BYTE_COUNT	4183719
+SPILL	SORT_AND_SPILL	19651874000
+SPILL	QUICK_SORT	10028721000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	9129881000
+SPILL	WRITE	4584150000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	10268146
+SPILL	COMPRESS_BYTE_COUNT	4087224
+SPILL	SORT_AND_SPILL	23917717000
+SPILL	QUICK_SORT	11683921000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	12183252000
+SPILL	WRITE	6076415000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11010440
+SPILL	COMPRESS_BYTE_COUNT	4331077
+SPILL	SORT_AND_SPILL	22656475000
+SPILL	QUICK_SORT	12069895000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10480509000
+SPILL	WRITE	5385005000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11496847
+SPILL	COMPRESS_BYTE_COUNT	4481234
+SPILL	SORT_AND_SPILL	22471444000
+SPILL	QUICK_SORT	11903126000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10499008000
+SPILL	WRITE	5337984000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12029662
+SPILL	COMPRESS_BYTE_COUNT	4719399
+SPILL	SORT_AND_SPILL	22885675000
+SPILL	QUICK_SORT	11953027000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	10333397000
+SPILL	WRITE	5227647000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11646064
+SPILL	COMPRESS_BYTE_COUNT	4512117
+SPILL	SORT_AND_SPILL	23233645000
+SPILL	QUICK_SORT	12611865000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10561424000
+SPILL	WRITE	5456064000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11925333
+SPILL	COMPRESS_BYTE_COUNT	4632824
+SPILL	SORT_AND_SPILL	23881583000
+SPILL	QUICK_SORT	12385011000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10785753000
+SPILL	WRITE	5407620000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11578296
+SPILL	COMPRESS_BYTE_COUNT	4567396
+SPILL	SORT_AND_SPILL	22037521000
+SPILL	QUICK_SORT	11752823000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10233077000
+SPILL	WRITE	4681610000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	10705419
+SPILL	COMPRESS_BYTE_COUNT	4296659
+SPILL	SORT_AND_SPILL	22049131000
+SPILL	QUICK_SORT	11019140000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10533842000
+SPILL	WRITE	5317646000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11046677
+SPILL	COMPRESS_BYTE_COUNT	4359785
+SPILL	SORT_AND_SPILL	22558208000
+SPILL	QUICK_SORT	11795673000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	10696930000
+SPILL	WRITE	5425647000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11783156
+SPILL	COMPRESS_BYTE_COUNT	4604609
+SPILL	SORT_AND_SPILL	22791380000
+SPILL	QUICK_SORT	11109779000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11107192000
+SPILL	WRITE	5688640000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11761969
+SPILL	COMPRESS_BYTE_COUNT	4573302
+MAP	CLEANUP	114000
+MAP	CLEANUP_MEM	270707744
+MAP	TOTAL_RUN	717661628000
+MAP	READ	1394870000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	170978
+MAP	VALUE_BYTE_COUNT	36056709
+MAP	MAP	716172292000
+MAP	WRITE	675582818000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	31641479000
+MAP	SERIALIZE_OUTPUT	544166108000
+MAP	MAP_MEM	270707744
+SPILL	SORT_AND_SPILL	12577801000
+SPILL	QUICK_SORT	6555514000
+SPILL	SORT_COUNT	491800
+SPILL	COMBINE	5974703000
+SPILL	WRITE	3094093000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	6858541
+SPILL	COMPRESS_BYTE_COUNT	2666356
+MERGE	TOTAL_MERGE	276932248862
+MERGE	READ_WRITE	275898404862
+MERGE	READ_WRITE_COUNT	81
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	1007980128862
@@ -0,0 +1,243 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt/part-00115	0
+MAP	STARTUP_MEM	213961496
+MAP	SETUP	484000
+MAP	SETUP_MEM	213961496
+SPILL	SORT_AND_SPILL	23431784000
+SPILL	QUICK_SORT	12663225000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	10585690000
+SPILL	WRITE	5473214000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12059446
+SPILL	COMPRESS_BYTE_COUNT	4723320
+SPILL	SORT_AND_SPILL	22327290000
+SPILL	QUICK_SORT	11842881000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10425406000
+SPILL	WRITE	5341262000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11853878
+SPILL	COMPRESS_BYTE_COUNT	4699529
+SPILL	SORT_AND_SPILL	22620142000
+SPILL	QUICK_SORT	11177573000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10905189000
+SPILL	WRITE	5481977000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11858390
+SPILL	COMPRESS_BYTE_COUNT	4641079
+SPILL	SORT_AND_SPILL	20202692000
+SPILL	QUICK_SORT	10657957000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	9096111000
+SPILL	WRITE	4538867000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	10209097
+SPILL	COMPRESS_BYTE_COUNT	4017521
+SPILL	SORT_AND_SPILL	18234603000
+SPILL	QUICK_SORT	8606249000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	8446301000
+SPILL	WRITE	4210132000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	9293733
+SPILL	COMPRESS_BYTE_COUNT	3649474
+SPILL	SORT_AND_SPILL	22505667000
+SPILL	QUICK_SORT	10945099000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11494377000
+SPILL	WRITE	5865972000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11757043
+SPILL	COMPRESS_BYTE_COUNT	4616957
+SPILL	SORT_AND_SPILL	22879858000
+SPILL	QUICK_SORT	11483292000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10414102000
+SPILL	WRITE	5358369000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11856849
+SPILL	COMPRESS_BYTE_COUNT	4642748
+SPILL	SORT_AND_SPILL	21551916000
+SPILL	QUICK_SORT	11175877000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10323140000
+SPILL	WRITE	5305478000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11732712
+SPILL	COMPRESS_BYTE_COUNT	4569993
+SPILL	SORT_AND_SPILL	21982568000
+SPILL	QUICK_SORT	10384232000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10393113000
+SPILL	WRITE	5342157000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11828536
+SPILL	COMPRESS_BYTE_COUNT	4634698
+SPILL	SORT_AND_SPILL	22742001000
+SPILL	QUICK_SORT	12226151000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	10462083000
+SPILL	WRITE	5415635000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11914833
+SPILL	COMPRESS_BYTE_COUNT	4645225
+SPILL	SORT_AND_SPILL	21911389000
+SPILL	QUICK_SORT	11128134000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10248818000
+SPILL	WRITE	5314316000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11684942
+SPILL	COMPRESS_BYTE_COUNT	4555431
+SPILL	SORT_AND_SPILL	20104635000
+SPILL	QUICK_SORT	10790257000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	9256260000
+SPILL	WRITE	4661583000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	10277470
+SPILL	COMPRESS_BYTE_COUNT	4028944
+SPILL	SORT_AND_SPILL	23281752000
+SPILL	QUICK_SORT	10696879000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11012288000
+SPILL	WRITE	5626818000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11654916
+SPILL	COMPRESS_BYTE_COUNT	4636441
+SPILL	SORT_AND_SPILL	21566745000
+SPILL	QUICK_SORT	10914084000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10588775000
+SPILL	WRITE	5424399000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11608484
+SPILL	COMPRESS_BYTE_COUNT	4555388
+SPILL	SORT_AND_SPILL	21409978000
+SPILL	QUICK_SORT	10983495000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	9872607000
+SPILL	WRITE	4964377000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11169917
+SPILL	COMPRESS_BYTE_COUNT	4418813
+SPILL	SORT_AND_SPILL	18792508000
+SPILL	QUICK_SORT	9274274000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	9454948000
+SPILL	WRITE	4741685000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	10482507
+SPILL	COMPRESS_BYTE_COUNT	4122765
+SPILL	SORT_AND_SPILL	18972593000
+SPILL	QUICK_SORT	9124749000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	9374722000
+SPILL	WRITE	4642952000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	9933246
+SPILL	COMPRESS_BYTE_COUNT	3947664
+SPILL	SORT_AND_SPILL	20454353000
+SPILL	QUICK_SORT	10793920000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	9596214000
+SPILL	WRITE	4863635000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	10812517
+SPILL	COMPRESS_BYTE_COUNT	4279506
+SPILL	SORT_AND_SPILL	20014943000
+SPILL	QUICK_SORT	9256127000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	9368720000
+SPILL	WRITE	4671635000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	10344533
+SPILL	COMPRESS_BYTE_COUNT	4060902
+SPILL	SORT_AND_SPILL	20317580000
+SPILL	QUICK_SORT	10589061000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	9682957000
+SPILL	WRITE	4895152000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	10923254
+SPILL	COMPRESS_BYTE_COUNT	4353326
+SPILL	SORT_AND_SPILL	17984006000
+SPILL	QUICK_SORT	8936332000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	8935411000
+SPILL	WRITE	4504172000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	9949012
+SPILL	COMPRESS_BYTE_COUNT	3926639
+SPILL	SORT_AND_SPILL	13452234000
+SPILL	QUICK_SORT	7305780000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	6098423000
+SPILL	WRITE	2723564000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	5998814
+SPILL	COMPRESS_BYTE_COUNT	2338745
+SPILL	SORT_AND_SPILL	22070547000
+SPILL	QUICK_SORT	11357034000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10599596000
+SPILL	WRITE	5358898000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	9937322
+SPILL	COMPRESS_BYTE_COUNT	3890758
+SPILL	SORT_AND_SPILL	21381704000
+SPILL	QUICK_SORT	9627374000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11696986000
+SPILL	WRITE	5583049000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	10661376
+SPILL	COMPRESS_BYTE_COUNT	4212118
+SPILL	SORT_AND_SPILL	21166817000
+SPILL	QUICK_SORT	8799270000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	11365936000
+SPILL	WRITE	5238400000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	9454683
+SPILL	COMPRESS_BYTE_COUNT	3727047
+SPILL	SORT_AND_SPILL	19566532000
+SPILL	QUICK_SORT	10252987000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	9254545000
+SPILL	WRITE	4700951000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	10446578
+SPILL	COMPRESS_BYTE_COUNT	4122816
+MAP	CLEANUP	134000
+MAP	CLEANUP_MEM	213594472
+MAP	TOTAL_RUN	652212363000
+MAP	READ	598974000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	176300
+MAP	VALUE_BYTE_COUNT	35951117
+MAP	MAP	651500252000
+MAP	WRITE	614001147000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	25961236000
+MAP	SERIALIZE_OUTPUT	493892853000
+MAP	MAP_MEM	213594472
+SPILL	SORT_AND_SPILL	10324979000
+SPILL	QUICK_SORT	4743583000
+SPILL	SORT_COUNT	475622
+SPILL	COMBINE	5490613000
+SPILL	WRITE	2739536000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	6070118
+SPILL	COMPRESS_BYTE_COUNT	2385643
+MERGE	TOTAL_MERGE	256264196518
+MERGE	READ_WRITE	255421799518
+MERGE	READ_WRITE_COUNT	81
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	919259585518
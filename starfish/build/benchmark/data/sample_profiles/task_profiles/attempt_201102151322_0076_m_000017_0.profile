@@ -0,0 +1,235 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt/part-00116	0
+MAP	STARTUP_MEM	214797544
+MAP	SETUP	566000
+MAP	SETUP_MEM	214797544
+SPILL	SORT_AND_SPILL	23607552441
+SPILL	QUICK_SORT	11831172441
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	11192344000
+SPILL	WRITE	5391864000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	10854290
+SPILL	COMPRESS_BYTE_COUNT	4258954
+SPILL	SORT_AND_SPILL	23499212000
+SPILL	QUICK_SORT	12283467000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11165310000
+SPILL	WRITE	5402173000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11189234
+SPILL	COMPRESS_BYTE_COUNT	4394576
+SPILL	SORT_AND_SPILL	21285509426
+SPILL	QUICK_SORT	10643376426
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10302646000
+SPILL	WRITE	4852289000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	10244753
+SPILL	COMPRESS_BYTE_COUNT	4030356
+SPILL	SORT_AND_SPILL	22425803000
+SPILL	QUICK_SORT	10532053000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11747643000
+SPILL	WRITE	5315998000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	10269960
+SPILL	COMPRESS_BYTE_COUNT	4008624
+SPILL	SORT_AND_SPILL	21248182729
+SPILL	QUICK_SORT	10037485000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	11081869729
+SPILL	WRITE	5286846729
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	10867819
+SPILL	COMPRESS_BYTE_COUNT	4289186
+SPILL	SORT_AND_SPILL	19433879000
+SPILL	QUICK_SORT	8821477000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10563053000
+SPILL	WRITE	4810300000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	9482172
+SPILL	COMPRESS_BYTE_COUNT	3740480
+SPILL	SORT_AND_SPILL	24663727000
+SPILL	QUICK_SORT	10633491000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	13916500000
+SPILL	WRITE	5817131000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	10634166
+SPILL	COMPRESS_BYTE_COUNT	4179412
+SPILL	SORT_AND_SPILL	22826237000
+SPILL	QUICK_SORT	9690100000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	13085571000
+SPILL	WRITE	5802972000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11229389
+SPILL	COMPRESS_BYTE_COUNT	4383317
+SPILL	SORT_AND_SPILL	20289481000
+SPILL	QUICK_SORT	8927973000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11245108000
+SPILL	WRITE	4665996000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	9871821
+SPILL	COMPRESS_BYTE_COUNT	3902930
+SPILL	SORT_AND_SPILL	19682184425
+SPILL	QUICK_SORT	9316071425
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	10312010000
+SPILL	WRITE	4728421000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	9905382
+SPILL	COMPRESS_BYTE_COUNT	3880287
+SPILL	SORT_AND_SPILL	22439690000
+SPILL	QUICK_SORT	10319208000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11367625000
+SPILL	WRITE	5652141000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	10547094
+SPILL	COMPRESS_BYTE_COUNT	4162908
+SPILL	SORT_AND_SPILL	26055334287
+SPILL	QUICK_SORT	13315142729
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	12686106558
+SPILL	WRITE	6384799558
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11265186
+SPILL	COMPRESS_BYTE_COUNT	4465736
+SPILL	SORT_AND_SPILL	20824112000
+SPILL	QUICK_SORT	9798911000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10811892000
+SPILL	WRITE	5308140000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	10780878
+SPILL	COMPRESS_BYTE_COUNT	4232562
+SPILL	SORT_AND_SPILL	21809331578
+SPILL	QUICK_SORT	11382370000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10364828578
+SPILL	WRITE	4989301000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	10436528
+SPILL	COMPRESS_BYTE_COUNT	4109971
+SPILL	SORT_AND_SPILL	23262110000
+SPILL	QUICK_SORT	11476957000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	11639585000
+SPILL	WRITE	5438052000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11549209
+SPILL	COMPRESS_BYTE_COUNT	4527345
+SPILL	SORT_AND_SPILL	24495990425
+SPILL	QUICK_SORT	11815956000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	12314540425
+SPILL	WRITE	5921138425
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11546846
+SPILL	COMPRESS_BYTE_COUNT	4581119
+SPILL	SORT_AND_SPILL	21586532000
+SPILL	QUICK_SORT	10290772000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11242173000
+SPILL	WRITE	5565888000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11292230
+SPILL	COMPRESS_BYTE_COUNT	4449702
+SPILL	SORT_AND_SPILL	23111739578
+SPILL	QUICK_SORT	11087631000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11732954578
+SPILL	WRITE	5546706578
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11648343
+SPILL	COMPRESS_BYTE_COUNT	4568401
+SPILL	SORT_AND_SPILL	21484606000
+SPILL	QUICK_SORT	10421281000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11017815000
+SPILL	WRITE	5334598000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11017232
+SPILL	COMPRESS_BYTE_COUNT	4320312
+SPILL	SORT_AND_SPILL	23488682000
+SPILL	QUICK_SORT	11707370000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	11663983000
+SPILL	WRITE	5700151000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11696911
+SPILL	COMPRESS_BYTE_COUNT	4603704
+SPILL	SORT_AND_SPILL	21977842000
+SPILL	QUICK_SORT	10847100000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11084215000
+SPILL	WRITE	5373264000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11093916
+SPILL	COMPRESS_BYTE_COUNT	4338943
+SPILL	SORT_AND_SPILL	21252635000
+SPILL	QUICK_SORT	9843391000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10364574000
+SPILL	WRITE	5069039000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	10397052
+SPILL	COMPRESS_BYTE_COUNT	4061939
+SPILL	SORT_AND_SPILL	23413829729
+SPILL	QUICK_SORT	12004716729
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11351330000
+SPILL	WRITE	5551752000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11531543
+SPILL	COMPRESS_BYTE_COUNT	4539010
+SPILL	SORT_AND_SPILL	22617764000
+SPILL	QUICK_SORT	10763226000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11522123000
+SPILL	WRITE	5651437000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11672223
+SPILL	COMPRESS_BYTE_COUNT	4618598
+SPILL	SORT_AND_SPILL	23705719578
+SPILL	QUICK_SORT	12124389578
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	11526903000
+SPILL	WRITE	5443085000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11609538
+SPILL	COMPRESS_BYTE_COUNT	4548470
+MAP	CLEANUP	104000
+MAP	CLEANUP_MEM	232113392
+MAP	TOTAL_RUN	702327304351
+MAP	READ	1042333000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	226573
+MAP	VALUE_BYTE_COUNT	35345678
+MAP	MAP	699730216351
+MAP	WRITE	654100391351
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	35538742578
+MAP	SERIALIZE_OUTPUT	513917369619
+MAP	MAP_MEM	232113392
+SPILL	SORT_AND_SPILL	17703598000
+SPILL	QUICK_SORT	7893220000
+SPILL	SORT_COUNT	688671
+SPILL	COMBINE	9706549000
+SPILL	WRITE	4763931000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	9794403
+SPILL	COMPRESS_BYTE_COUNT	3873441
+MERGE	TOTAL_MERGE	269290890887
+MERGE	READ_WRITE	268135735887
+MERGE	READ_WRITE_COUNT	81
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	989794888238
@@ -0,0 +1,235 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt/part-00126	0
+MAP	STARTUP_MEM	214776912
+MAP	SETUP	518000
+MAP	SETUP_MEM	214776912
+SPILL	SORT_AND_SPILL	22653175000
+SPILL	QUICK_SORT	11555906000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	10816461000
+SPILL	WRITE	5399402000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	10956210
+SPILL	COMPRESS_BYTE_COUNT	4266809
+SPILL	SORT_AND_SPILL	22421282000
+SPILL	QUICK_SORT	12090598000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10255564000
+SPILL	WRITE	5242983000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11739092
+SPILL	COMPRESS_BYTE_COUNT	4616163
+SPILL	SORT_AND_SPILL	20892759000
+SPILL	QUICK_SORT	11244984000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	9437170000
+SPILL	WRITE	4680629000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	10722292
+SPILL	COMPRESS_BYTE_COUNT	4226940
+SPILL	SORT_AND_SPILL	21098924000
+SPILL	QUICK_SORT	10615994000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10428453000
+SPILL	WRITE	5524116000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11536784
+SPILL	COMPRESS_BYTE_COUNT	4563480
+SPILL	SORT_AND_SPILL	22678138000
+SPILL	QUICK_SORT	10512976000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	10709120000
+SPILL	WRITE	5292752000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11537203
+SPILL	COMPRESS_BYTE_COUNT	4502340
+SPILL	SORT_AND_SPILL	21641516000
+SPILL	QUICK_SORT	11163744000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10421652000
+SPILL	WRITE	5351611000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11895047
+SPILL	COMPRESS_BYTE_COUNT	4690553
+SPILL	SORT_AND_SPILL	22155996000
+SPILL	QUICK_SORT	11518516000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10422851000
+SPILL	WRITE	5349668000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11888920
+SPILL	COMPRESS_BYTE_COUNT	4701485
+SPILL	SORT_AND_SPILL	21454082000
+SPILL	QUICK_SORT	11094522000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10304515000
+SPILL	WRITE	5345048000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11876874
+SPILL	COMPRESS_BYTE_COUNT	4671511
+SPILL	SORT_AND_SPILL	21372729000
+SPILL	QUICK_SORT	11242987000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	9608734000
+SPILL	WRITE	4894624000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	10760856
+SPILL	COMPRESS_BYTE_COUNT	4208468
+SPILL	SORT_AND_SPILL	20631081000
+SPILL	QUICK_SORT	10665887000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	9916962000
+SPILL	WRITE	5066473000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11196341
+SPILL	COMPRESS_BYTE_COUNT	4387919
+SPILL	SORT_AND_SPILL	22299804000
+SPILL	QUICK_SORT	10525617000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10438325000
+SPILL	WRITE	5376100000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11902999
+SPILL	COMPRESS_BYTE_COUNT	4654919
+SPILL	SORT_AND_SPILL	20876220000
+SPILL	QUICK_SORT	10243402000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10575385000
+SPILL	WRITE	5422463000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11892602
+SPILL	COMPRESS_BYTE_COUNT	4613108
+SPILL	SORT_AND_SPILL	20612747000
+SPILL	QUICK_SORT	10283729000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10063752000
+SPILL	WRITE	5127257000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11680302
+SPILL	COMPRESS_BYTE_COUNT	4570170
+SPILL	SORT_AND_SPILL	20146151000
+SPILL	QUICK_SORT	10260367000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	9838635000
+SPILL	WRITE	4938453000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11049271
+SPILL	COMPRESS_BYTE_COUNT	4339085
+SPILL	SORT_AND_SPILL	21743090000
+SPILL	QUICK_SORT	9758656000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	11120561000
+SPILL	WRITE	5416287000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11225149
+SPILL	COMPRESS_BYTE_COUNT	4429533
+SPILL	SORT_AND_SPILL	20334307000
+SPILL	QUICK_SORT	9705394000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10553781000
+SPILL	WRITE	5187521000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11419843
+SPILL	COMPRESS_BYTE_COUNT	4485889
+SPILL	SORT_AND_SPILL	22543610000
+SPILL	QUICK_SORT	10689777000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11745221000
+SPILL	WRITE	6094361000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11212724
+SPILL	COMPRESS_BYTE_COUNT	4373359
+SPILL	SORT_AND_SPILL	20578695000
+SPILL	QUICK_SORT	10427529000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10088546000
+SPILL	WRITE	5142873000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11494373
+SPILL	COMPRESS_BYTE_COUNT	4516871
+SPILL	SORT_AND_SPILL	20773534000
+SPILL	QUICK_SORT	10757216000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	9832914000
+SPILL	WRITE	5008378000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11227661
+SPILL	COMPRESS_BYTE_COUNT	4385365
+SPILL	SORT_AND_SPILL	21523247000
+SPILL	QUICK_SORT	11064245000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	10402653000
+SPILL	WRITE	5292077000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11973096
+SPILL	COMPRESS_BYTE_COUNT	4675510
+SPILL	SORT_AND_SPILL	21473307000
+SPILL	QUICK_SORT	11136243000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10205861000
+SPILL	WRITE	5242177000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11663452
+SPILL	COMPRESS_BYTE_COUNT	4585595
+SPILL	SORT_AND_SPILL	21351947000
+SPILL	QUICK_SORT	10775395000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10520284000
+SPILL	WRITE	5446856000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11838839
+SPILL	COMPRESS_BYTE_COUNT	4628253
+SPILL	SORT_AND_SPILL	23493535000
+SPILL	QUICK_SORT	10429202000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	12172091000
+SPILL	WRITE	6538744000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11648154
+SPILL	COMPRESS_BYTE_COUNT	4511913
+SPILL	SORT_AND_SPILL	21441709000
+SPILL	QUICK_SORT	10315675000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11066439000
+SPILL	WRITE	5825273000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11907253
+SPILL	COMPRESS_BYTE_COUNT	4701663
+SPILL	SORT_AND_SPILL	21536936000
+SPILL	QUICK_SORT	10694974000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	10680396000
+SPILL	WRITE	5268083000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11306348
+SPILL	COMPRESS_BYTE_COUNT	4387780
+MAP	CLEANUP	101000
+MAP	CLEANUP_MEM	224950488
+MAP	TOTAL_RUN	637270205000
+MAP	READ	633189000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	120764
+MAP	VALUE_BYTE_COUNT	33770819
+MAP	MAP	636560589000
+MAP	WRITE	597433264000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	29261478000
+MAP	SERIALIZE_OUTPUT	490429584000
+MAP	MAP_MEM	224950488
+SPILL	SORT_AND_SPILL	4679011000
+SPILL	QUICK_SORT	2083833000
+SPILL	SORT_COUNT	234815
+SPILL	COMBINE	2567899000
+SPILL	WRITE	1211789000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	2796574
+SPILL	COMPRESS_BYTE_COUNT	1041996
+MERGE	TOTAL_MERGE	256211679518
+MERGE	READ_WRITE	255315623518
+MERGE	READ_WRITE_COUNT	81
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	898581109518
@@ -0,0 +1,227 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt/part-00122	0
+MAP	STARTUP_MEM	214774816
+MAP	SETUP	542000
+MAP	SETUP_MEM	214774816
+SPILL	SORT_AND_SPILL	22714488000
+SPILL	QUICK_SORT	11671751000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	10788013000
+SPILL	WRITE	5491599000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12066456
+SPILL	COMPRESS_BYTE_COUNT	4712328
+SPILL	SORT_AND_SPILL	20651656000
+SPILL	QUICK_SORT	10450655000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10150240000
+SPILL	WRITE	5177337000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11511975
+SPILL	COMPRESS_BYTE_COUNT	4462285
+SPILL	SORT_AND_SPILL	21423393000
+SPILL	QUICK_SORT	10597915000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10685806000
+SPILL	WRITE	5548192000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11847655
+SPILL	COMPRESS_BYTE_COUNT	4669461
+SPILL	SORT_AND_SPILL	21365790000
+SPILL	QUICK_SORT	10546944000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10759843000
+SPILL	WRITE	5548223000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11836047
+SPILL	COMPRESS_BYTE_COUNT	4598944
+SPILL	SORT_AND_SPILL	22204990000
+SPILL	QUICK_SORT	10163538000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	10923185000
+SPILL	WRITE	5511511000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11790615
+SPILL	COMPRESS_BYTE_COUNT	4699396
+SPILL	SORT_AND_SPILL	22795062000
+SPILL	QUICK_SORT	9854431000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	12874801000
+SPILL	WRITE	6312268000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11950160
+SPILL	COMPRESS_BYTE_COUNT	4736680
+SPILL	SORT_AND_SPILL	22189760000
+SPILL	QUICK_SORT	10273956000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11617773000
+SPILL	WRITE	6196924000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11766424
+SPILL	COMPRESS_BYTE_COUNT	4662348
+SPILL	SORT_AND_SPILL	21667335000
+SPILL	QUICK_SORT	10826622000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10785990000
+SPILL	WRITE	5558182000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11748513
+SPILL	COMPRESS_BYTE_COUNT	4584124
+SPILL	SORT_AND_SPILL	22700877000
+SPILL	QUICK_SORT	9783416000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	12208202000
+SPILL	WRITE	6104402000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11682430
+SPILL	COMPRESS_BYTE_COUNT	4595102
+SPILL	SORT_AND_SPILL	21188258000
+SPILL	QUICK_SORT	10726800000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	10403808000
+SPILL	WRITE	5494914000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12020695
+SPILL	COMPRESS_BYTE_COUNT	4689615
+SPILL	SORT_AND_SPILL	21720580000
+SPILL	QUICK_SORT	11051152000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10547769000
+SPILL	WRITE	5461796000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12119321
+SPILL	COMPRESS_BYTE_COUNT	4769826
+SPILL	SORT_AND_SPILL	20819298000
+SPILL	QUICK_SORT	9859307000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10892317000
+SPILL	WRITE	5663675000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11975263
+SPILL	COMPRESS_BYTE_COUNT	4669842
+SPILL	SORT_AND_SPILL	22770867000
+SPILL	QUICK_SORT	10415464000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11588441000
+SPILL	WRITE	5899659000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11816148
+SPILL	COMPRESS_BYTE_COUNT	4630935
+SPILL	SORT_AND_SPILL	20570421000
+SPILL	QUICK_SORT	9845770000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10671430000
+SPILL	WRITE	5676449000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11602254
+SPILL	COMPRESS_BYTE_COUNT	4521615
+SPILL	SORT_AND_SPILL	21814970000
+SPILL	QUICK_SORT	10009303000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	11169579000
+SPILL	WRITE	5869435000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11622257
+SPILL	COMPRESS_BYTE_COUNT	4562857
+SPILL	SORT_AND_SPILL	24604144000
+SPILL	QUICK_SORT	10570043000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	13975949000
+SPILL	WRITE	6849132000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11636403
+SPILL	COMPRESS_BYTE_COUNT	4530149
+SPILL	SORT_AND_SPILL	23055626000
+SPILL	QUICK_SORT	9851976000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11933180000
+SPILL	WRITE	6068972000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11855528
+SPILL	COMPRESS_BYTE_COUNT	4625650
+SPILL	SORT_AND_SPILL	21370903000
+SPILL	QUICK_SORT	10089025000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11222590000
+SPILL	WRITE	6084215000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11779378
+SPILL	COMPRESS_BYTE_COUNT	4617546
+SPILL	SORT_AND_SPILL	21374955000
+SPILL	QUICK_SORT	9922818000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11339947000
+SPILL	WRITE	6134294000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11812081
+SPILL	COMPRESS_BYTE_COUNT	4632536
+SPILL	SORT_AND_SPILL	20847864000
+SPILL	QUICK_SORT	10319408000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	10474196000
+SPILL	WRITE	5393417000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11640304
+SPILL	COMPRESS_BYTE_COUNT	4547819
+SPILL	SORT_AND_SPILL	21794509000
+SPILL	QUICK_SORT	11185583000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10490348000
+SPILL	WRITE	5474107000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11465142
+SPILL	COMPRESS_BYTE_COUNT	4512654
+SPILL	SORT_AND_SPILL	22907711000
+SPILL	QUICK_SORT	11405332000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11446120000
+SPILL	WRITE	6015096000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11808479
+SPILL	COMPRESS_BYTE_COUNT	4639344
+SPILL	SORT_AND_SPILL	22002187000
+SPILL	QUICK_SORT	11906444000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	9931170000
+SPILL	WRITE	4991505000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	10232134
+SPILL	COMPRESS_BYTE_COUNT	3963389
+SPILL	SORT_AND_SPILL	22217578000
+SPILL	QUICK_SORT	11567831000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10570641000
+SPILL	WRITE	5390135000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11579259
+SPILL	COMPRESS_BYTE_COUNT	4615979
+MAP	CLEANUP	106000
+MAP	CLEANUP_MEM	221333368
+MAP	TOTAL_RUN	622430734000
+MAP	READ	557263000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	129555
+MAP	VALUE_BYTE_COUNT	32977947
+MAP	MAP	621799620000
+MAP	WRITE	597846768000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	21143379000
+MAP	SERIALIZE_OUTPUT	497894937000
+MAP	MAP_MEM	221743488
+SPILL	SORT_AND_SPILL	12233480000
+SPILL	QUICK_SORT	5691631000
+SPILL	SORT_COUNT	513001
+SPILL	COMBINE	6445314000
+SPILL	WRITE	3393917000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7286326
+SPILL	COMPRESS_BYTE_COUNT	2831534
+MERGE	TOTAL_MERGE	256103078975
+MERGE	READ_WRITE	255244854975
+MERGE	READ_WRITE_COUNT	81
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	891225166975
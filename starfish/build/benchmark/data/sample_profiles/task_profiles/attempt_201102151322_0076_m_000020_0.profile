@@ -0,0 +1,227 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt/part-00119	0
+MAP	STARTUP_MEM	213949608
+MAP	SETUP	517000
+MAP	SETUP_MEM	213949608
+SPILL	SORT_AND_SPILL	22732030000
+SPILL	QUICK_SORT	12249359000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	9993415000
+SPILL	WRITE	5040825000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11288824
+SPILL	COMPRESS_BYTE_COUNT	4462411
+SPILL	SORT_AND_SPILL	19618087000
+SPILL	QUICK_SORT	10010883000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	9541476000
+SPILL	WRITE	4794493000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	10313638
+SPILL	COMPRESS_BYTE_COUNT	4111000
+SPILL	SORT_AND_SPILL	21013207000
+SPILL	QUICK_SORT	9718971000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11137299000
+SPILL	WRITE	5593939000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	9633470
+SPILL	COMPRESS_BYTE_COUNT	3829929
+SPILL	SORT_AND_SPILL	21371797000
+SPILL	QUICK_SORT	10115559000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11179578000
+SPILL	WRITE	6073012000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	10858974
+SPILL	COMPRESS_BYTE_COUNT	4281337
+SPILL	SORT_AND_SPILL	20178645000
+SPILL	QUICK_SORT	9135566000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	9694344000
+SPILL	WRITE	4990412000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	10610962
+SPILL	COMPRESS_BYTE_COUNT	4181385
+SPILL	SORT_AND_SPILL	20706256000
+SPILL	QUICK_SORT	8881384000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11764031000
+SPILL	WRITE	6439787000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	10348444
+SPILL	COMPRESS_BYTE_COUNT	4092346
+SPILL	SORT_AND_SPILL	24214216000
+SPILL	QUICK_SORT	9641989000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	14260868000
+SPILL	WRITE	7016306000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11411635
+SPILL	COMPRESS_BYTE_COUNT	4504108
+SPILL	SORT_AND_SPILL	23911727000
+SPILL	QUICK_SORT	10383151000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	13477805000
+SPILL	WRITE	6853207000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11274445
+SPILL	COMPRESS_BYTE_COUNT	4452529
+SPILL	SORT_AND_SPILL	20446777000
+SPILL	QUICK_SORT	9491969000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10394680000
+SPILL	WRITE	5400508000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11632956
+SPILL	COMPRESS_BYTE_COUNT	4576749
+SPILL	SORT_AND_SPILL	23432529000
+SPILL	QUICK_SORT	10665342000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	12690668000
+SPILL	WRITE	6613242000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11706670
+SPILL	COMPRESS_BYTE_COUNT	4592674
+SPILL	SORT_AND_SPILL	21375916000
+SPILL	QUICK_SORT	9683734000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10976778000
+SPILL	WRITE	5574050000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12115717
+SPILL	COMPRESS_BYTE_COUNT	4770404
+SPILL	SORT_AND_SPILL	24210779000
+SPILL	QUICK_SORT	10546251000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	13602990000
+SPILL	WRITE	7054304000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11395630
+SPILL	COMPRESS_BYTE_COUNT	4510845
+SPILL	SORT_AND_SPILL	21232656000
+SPILL	QUICK_SORT	10560311000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10528127000
+SPILL	WRITE	5379514000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11704651
+SPILL	COMPRESS_BYTE_COUNT	4605981
+SPILL	SORT_AND_SPILL	21418988000
+SPILL	QUICK_SORT	10792199000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10565295000
+SPILL	WRITE	5495505000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11880901
+SPILL	COMPRESS_BYTE_COUNT	4695760
+SPILL	SORT_AND_SPILL	21814195000
+SPILL	QUICK_SORT	10970526000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	10703561000
+SPILL	WRITE	5570882000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12042518
+SPILL	COMPRESS_BYTE_COUNT	4754836
+SPILL	SORT_AND_SPILL	23098818000
+SPILL	QUICK_SORT	12459133000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10574851000
+SPILL	WRITE	5550939000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11926620
+SPILL	COMPRESS_BYTE_COUNT	4707798
+SPILL	SORT_AND_SPILL	22232238000
+SPILL	QUICK_SORT	11360161000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10411909000
+SPILL	WRITE	5431644000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11876749
+SPILL	COMPRESS_BYTE_COUNT	4731897
+SPILL	SORT_AND_SPILL	21335905000
+SPILL	QUICK_SORT	10073630000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11207115000
+SPILL	WRITE	5755202000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11501823
+SPILL	COMPRESS_BYTE_COUNT	4505092
+SPILL	SORT_AND_SPILL	22087527000
+SPILL	QUICK_SORT	10617914000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10362465000
+SPILL	WRITE	5362353000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11620072
+SPILL	COMPRESS_BYTE_COUNT	4561672
+SPILL	SORT_AND_SPILL	20529839000
+SPILL	QUICK_SORT	10182856000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	10260482000
+SPILL	WRITE	5398777000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11558659
+SPILL	COMPRESS_BYTE_COUNT	4550994
+SPILL	SORT_AND_SPILL	21339735000
+SPILL	QUICK_SORT	10767203000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10048300000
+SPILL	WRITE	5202975000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11496265
+SPILL	COMPRESS_BYTE_COUNT	4527349
+SPILL	SORT_AND_SPILL	20014992000
+SPILL	QUICK_SORT	9671166000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10288094000
+SPILL	WRITE	5349176000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11868901
+SPILL	COMPRESS_BYTE_COUNT	4658889
+SPILL	SORT_AND_SPILL	19656767000
+SPILL	QUICK_SORT	9800601000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	9723325000
+SPILL	WRITE	5010270000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11155055
+SPILL	COMPRESS_BYTE_COUNT	4377651
+MAP	CLEANUP	50000
+MAP	CLEANUP_MEM	251502016
+MAP	TOTAL_RUN	592766688000
+MAP	READ	751508000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	151986
+MAP	VALUE_BYTE_COUNT	32654473
+MAP	MAP	591926453000
+MAP	WRITE	563147306000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	19359140000
+MAP	SERIALIZE_OUTPUT	477572600000
+MAP	MAP_MEM	251502016
+SPILL	SORT_AND_SPILL	20184988000
+SPILL	QUICK_SORT	9786347000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10339662000
+SPILL	WRITE	5340503000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11829541
+SPILL	COMPRESS_BYTE_COUNT	4665925
+SPILL	SORT_AND_SPILL	3209763000
+SPILL	QUICK_SORT	1293945000
+SPILL	SORT_COUNT	150015
+SPILL	COMBINE	1837132000
+SPILL	WRITE	932123000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	2162478
+SPILL	COMPRESS_BYTE_COUNT	824837
+MERGE	TOTAL_MERGE	228565543000
+MERGE	READ_WRITE	227626371000
+MERGE	READ_WRITE_COUNT	81
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	843501954000
@@ -0,0 +1,227 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt/part-00124	0
+MAP	STARTUP_MEM	214800088
+MAP	SETUP	487000
+MAP	SETUP_MEM	214800088
+SPILL	SORT_AND_SPILL	21980549000
+SPILL	QUICK_SORT	11649514000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	10172821000
+SPILL	WRITE	5187205000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11298346
+SPILL	COMPRESS_BYTE_COUNT	4390931
+SPILL	SORT_AND_SPILL	21077521000
+SPILL	QUICK_SORT	11199729000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	9832864000
+SPILL	WRITE	4941784000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	10884455
+SPILL	COMPRESS_BYTE_COUNT	4247815
+SPILL	SORT_AND_SPILL	21818517000
+SPILL	QUICK_SORT	11524133000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10165528000
+SPILL	WRITE	5244833000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11554883
+SPILL	COMPRESS_BYTE_COUNT	4552876
+SPILL	SORT_AND_SPILL	22213646000
+SPILL	QUICK_SORT	11622415000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10534463000
+SPILL	WRITE	5441417000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11856513
+SPILL	COMPRESS_BYTE_COUNT	4695958
+SPILL	SORT_AND_SPILL	21583129000
+SPILL	QUICK_SORT	10246296000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	10820865000
+SPILL	WRITE	5362312000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11885269
+SPILL	COMPRESS_BYTE_COUNT	4644227
+SPILL	SORT_AND_SPILL	21482044185
+SPILL	QUICK_SORT	10784278000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10625940185
+SPILL	WRITE	5327995185
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11764670
+SPILL	COMPRESS_BYTE_COUNT	4574598
+SPILL	SORT_AND_SPILL	22096588000
+SPILL	QUICK_SORT	11499594000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10309068000
+SPILL	WRITE	5253827000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11378532
+SPILL	COMPRESS_BYTE_COUNT	4422867
+SPILL	SORT_AND_SPILL	20662816000
+SPILL	QUICK_SORT	10397295000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10214752000
+SPILL	WRITE	5237733000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11705423
+SPILL	COMPRESS_BYTE_COUNT	4568049
+SPILL	SORT_AND_SPILL	20926541000
+SPILL	QUICK_SORT	10277693000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10031166000
+SPILL	WRITE	5092597000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11352386
+SPILL	COMPRESS_BYTE_COUNT	4433065
+SPILL	SORT_AND_SPILL	20453700000
+SPILL	QUICK_SORT	10072770000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	10334141000
+SPILL	WRITE	5454105000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11315938
+SPILL	COMPRESS_BYTE_COUNT	4420354
+SPILL	SORT_AND_SPILL	21554357000
+SPILL	QUICK_SORT	10631392000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10377113000
+SPILL	WRITE	5364464000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12003499
+SPILL	COMPRESS_BYTE_COUNT	4747982
+SPILL	SORT_AND_SPILL	21695678000
+SPILL	QUICK_SORT	11192562000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10437652000
+SPILL	WRITE	5395124000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11897720
+SPILL	COMPRESS_BYTE_COUNT	4703559
+SPILL	SORT_AND_SPILL	22509520000
+SPILL	QUICK_SORT	11075264000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10461987000
+SPILL	WRITE	5354226000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11843559
+SPILL	COMPRESS_BYTE_COUNT	4618101
+SPILL	SORT_AND_SPILL	21321837000
+SPILL	QUICK_SORT	10886506000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10382341000
+SPILL	WRITE	5397644000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11842949
+SPILL	COMPRESS_BYTE_COUNT	4599733
+SPILL	SORT_AND_SPILL	21567767000
+SPILL	QUICK_SORT	11163386000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	10292183000
+SPILL	WRITE	5261166000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11919498
+SPILL	COMPRESS_BYTE_COUNT	4659630
+SPILL	SORT_AND_SPILL	21496464000
+SPILL	QUICK_SORT	11376646000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10074821000
+SPILL	WRITE	5085181000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11180260
+SPILL	COMPRESS_BYTE_COUNT	4372791
+SPILL	SORT_AND_SPILL	21197706000
+SPILL	QUICK_SORT	10139929000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10015867000
+SPILL	WRITE	5128403000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11345860
+SPILL	COMPRESS_BYTE_COUNT	4503067
+SPILL	SORT_AND_SPILL	20123663000
+SPILL	QUICK_SORT	10170025000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	9909342000
+SPILL	WRITE	4970826000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11125983
+SPILL	COMPRESS_BYTE_COUNT	4332953
+SPILL	SORT_AND_SPILL	21144548000
+SPILL	QUICK_SORT	10969809000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10061616000
+SPILL	WRITE	5145936000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11512116
+SPILL	COMPRESS_BYTE_COUNT	4539560
+SPILL	SORT_AND_SPILL	21236843000
+SPILL	QUICK_SORT	10850241000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	10331623000
+SPILL	WRITE	5335117000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11678057
+SPILL	COMPRESS_BYTE_COUNT	4659939
+SPILL	SORT_AND_SPILL	23976917000
+SPILL	QUICK_SORT	11141970000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	12233557000
+SPILL	WRITE	6383399000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11791325
+SPILL	COMPRESS_BYTE_COUNT	4594006
+SPILL	SORT_AND_SPILL	22707744000
+SPILL	QUICK_SORT	10245038000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	12290890000
+SPILL	WRITE	6660751000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11248705
+SPILL	COMPRESS_BYTE_COUNT	4394120
+SPILL	SORT_AND_SPILL	21245623000
+SPILL	QUICK_SORT	9436219000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10614280000
+SPILL	WRITE	5328788000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11687900
+SPILL	COMPRESS_BYTE_COUNT	4538455
+MAP	CLEANUP	105000
+MAP	CLEANUP_MEM	227235600
+MAP	TOTAL_RUN	605327465185
+MAP	READ	3629458000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	121563
+MAP	VALUE_BYTE_COUNT	32356249
+MAP	MAP	601623766185
+MAP	WRITE	552390150185
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	23382774000
+MAP	SERIALIZE_OUTPUT	426154984185
+MAP	MAP_MEM	227235600
+SPILL	SORT_AND_SPILL	19671819000
+SPILL	QUICK_SORT	9436092000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10151747000
+SPILL	WRITE	5302293000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11531870
+SPILL	COMPRESS_BYTE_COUNT	4510905
+SPILL	SORT_AND_SPILL	1625184000
+SPILL	QUICK_SORT	677223000
+SPILL	SORT_COUNT	69199
+SPILL	COMBINE	850524000
+SPILL	WRITE	450413000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	1121971
+SPILL	COMPRESS_BYTE_COUNT	426142
+MERGE	TOTAL_MERGE	242929835000
+MERGE	READ_WRITE	242180001000
+MERGE	READ_WRITE_COUNT	81
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	865659684185
@@ -0,0 +1,227 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt/part-00123	0
+MAP	STARTUP_MEM	213917752
+MAP	SETUP	487000
+MAP	SETUP_MEM	213917752
+SPILL	SORT_AND_SPILL	21895643000
+SPILL	QUICK_SORT	10743793000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	10852348000
+SPILL	WRITE	5554670000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11943726
+SPILL	COMPRESS_BYTE_COUNT	4688295
+SPILL	SORT_AND_SPILL	21124547000
+SPILL	QUICK_SORT	10538647000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10517078000
+SPILL	WRITE	5488500000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11832133
+SPILL	COMPRESS_BYTE_COUNT	4643012
+SPILL	SORT_AND_SPILL	21490204000
+SPILL	QUICK_SORT	9684705000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10495767000
+SPILL	WRITE	5430839000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11964860
+SPILL	COMPRESS_BYTE_COUNT	4663430
+SPILL	SORT_AND_SPILL	21060588000
+SPILL	QUICK_SORT	10414906000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10567443000
+SPILL	WRITE	5413428000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11839126
+SPILL	COMPRESS_BYTE_COUNT	4659640
+SPILL	SORT_AND_SPILL	23476418000
+SPILL	QUICK_SORT	11236875000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	12087554000
+SPILL	WRITE	6878618000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11597182
+SPILL	COMPRESS_BYTE_COUNT	4526027
+SPILL	SORT_AND_SPILL	22691927000
+SPILL	QUICK_SORT	12069531000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10562825000
+SPILL	WRITE	5420971000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11996500
+SPILL	COMPRESS_BYTE_COUNT	4770263
+SPILL	SORT_AND_SPILL	22316486000
+SPILL	QUICK_SORT	10427899000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10745230000
+SPILL	WRITE	5601393000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12051222
+SPILL	COMPRESS_BYTE_COUNT	4757420
+SPILL	SORT_AND_SPILL	22367266000
+SPILL	QUICK_SORT	11897337000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10417606000
+SPILL	WRITE	5430412000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11610038
+SPILL	COMPRESS_BYTE_COUNT	4587448
+SPILL	SORT_AND_SPILL	22769252000
+SPILL	QUICK_SORT	10942949000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11710926000
+SPILL	WRITE	6554676000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11435786
+SPILL	COMPRESS_BYTE_COUNT	4494501
+SPILL	SORT_AND_SPILL	22199582000
+SPILL	QUICK_SORT	11071204000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	11075019000
+SPILL	WRITE	5810103000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11694726
+SPILL	COMPRESS_BYTE_COUNT	4628979
+SPILL	SORT_AND_SPILL	20551320000
+SPILL	QUICK_SORT	9680246000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	9973289000
+SPILL	WRITE	5131603000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11412062
+SPILL	COMPRESS_BYTE_COUNT	4485628
+SPILL	SORT_AND_SPILL	21513164000
+SPILL	QUICK_SORT	10932920000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10524066000
+SPILL	WRITE	5433861000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11879613
+SPILL	COMPRESS_BYTE_COUNT	4686923
+SPILL	SORT_AND_SPILL	22108375000
+SPILL	QUICK_SORT	11688458000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10291543000
+SPILL	WRITE	5401632000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11495247
+SPILL	COMPRESS_BYTE_COUNT	4536212
+SPILL	SORT_AND_SPILL	21288875000
+SPILL	QUICK_SORT	10895095000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10338460000
+SPILL	WRITE	5426870000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11846799
+SPILL	COMPRESS_BYTE_COUNT	4672709
+SPILL	SORT_AND_SPILL	20806881000
+SPILL	QUICK_SORT	10380148000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	10300825000
+SPILL	WRITE	5347528000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11884560
+SPILL	COMPRESS_BYTE_COUNT	4682815
+SPILL	SORT_AND_SPILL	20669449000
+SPILL	QUICK_SORT	10166790000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10441930000
+SPILL	WRITE	5305913000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11362916
+SPILL	COMPRESS_BYTE_COUNT	4440280
+SPILL	SORT_AND_SPILL	21102574000
+SPILL	QUICK_SORT	9609657000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10200243000
+SPILL	WRITE	5251961000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11533508
+SPILL	COMPRESS_BYTE_COUNT	4527540
+SPILL	SORT_AND_SPILL	21220773000
+SPILL	QUICK_SORT	10777723000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10377512000
+SPILL	WRITE	5452255000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11971479
+SPILL	COMPRESS_BYTE_COUNT	4675882
+SPILL	SORT_AND_SPILL	21793832000
+SPILL	QUICK_SORT	11247198000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10437659000
+SPILL	WRITE	5449214000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11402479
+SPILL	COMPRESS_BYTE_COUNT	4491358
+SPILL	SORT_AND_SPILL	21636827000
+SPILL	QUICK_SORT	11103753000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	10476935000
+SPILL	WRITE	5533325000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11826210
+SPILL	COMPRESS_BYTE_COUNT	4642141
+SPILL	SORT_AND_SPILL	20789883000
+SPILL	QUICK_SORT	10041362000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10622909000
+SPILL	WRITE	5564042000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11883066
+SPILL	COMPRESS_BYTE_COUNT	4653283
+SPILL	SORT_AND_SPILL	20670463000
+SPILL	QUICK_SORT	9763026000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10845704000
+SPILL	WRITE	5690236000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12011447
+SPILL	COMPRESS_BYTE_COUNT	4710403
+SPILL	SORT_AND_SPILL	24791106000
+SPILL	QUICK_SORT	9750177000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	14851078000
+SPILL	WRITE	7078146000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11938883
+SPILL	COMPRESS_BYTE_COUNT	4727875
+MAP	CLEANUP	83000
+MAP	CLEANUP_MEM	220173200
+MAP	TOTAL_RUN	597974692185
+MAP	READ	1968788000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	113872
+MAP	VALUE_BYTE_COUNT	32308554
+MAP	MAP	595939279185
+MAP	WRITE	561785864185
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	29509744000
+MAP	SERIALIZE_OUTPUT	464935060000
+MAP	MAP_MEM	220173200
+SPILL	SORT_AND_SPILL	21486937000
+SPILL	QUICK_SORT	10236769000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11165111000
+SPILL	WRITE	5923606000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11749926
+SPILL	COMPRESS_BYTE_COUNT	4594685
+SPILL	SORT_AND_SPILL	3233673000
+SPILL	QUICK_SORT	1272687000
+SPILL	SORT_COUNT	145065
+SPILL	COMBINE	1864329000
+SPILL	WRITE	981279000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	2194154
+SPILL	COMPRESS_BYTE_COUNT	835151
+MERGE	TOTAL_MERGE	256661405000
+MERGE	READ_WRITE	255807663000
+MERGE	READ_WRITE_COUNT	81
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	875247524185
@@ -0,0 +1,227 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt/part-00127	0
+MAP	STARTUP_MEM	214825664
+MAP	SETUP	552000
+MAP	SETUP_MEM	214825664
+SPILL	SORT_AND_SPILL	23551028989
+SPILL	QUICK_SORT	11734928000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	11587188989
+SPILL	WRITE	5422050000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11328198
+SPILL	COMPRESS_BYTE_COUNT	4435082
+SPILL	SORT_AND_SPILL	23111386000
+SPILL	QUICK_SORT	11442769000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11612136000
+SPILL	WRITE	5534878000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11794954
+SPILL	COMPRESS_BYTE_COUNT	4644568
+SPILL	SORT_AND_SPILL	25202206101
+SPILL	QUICK_SORT	10091175101
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	13766111000
+SPILL	WRITE	5886667000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11610042
+SPILL	COMPRESS_BYTE_COUNT	4564283
+SPILL	SORT_AND_SPILL	20048162000
+SPILL	QUICK_SORT	8620715000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11378939000
+SPILL	WRITE	5069007000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	9634280
+SPILL	COMPRESS_BYTE_COUNT	3698632
+SPILL	SORT_AND_SPILL	24677770101
+SPILL	QUICK_SORT	10238333000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	13748892101
+SPILL	WRITE	6649593000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11720324
+SPILL	COMPRESS_BYTE_COUNT	4665808
+SPILL	SORT_AND_SPILL	22925321000
+SPILL	QUICK_SORT	9956786000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	12708119000
+SPILL	WRITE	5680737000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11663073
+SPILL	COMPRESS_BYTE_COUNT	4552942
+SPILL	SORT_AND_SPILL	27283856101
+SPILL	QUICK_SORT	11536580000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	15492582101
+SPILL	WRITE	6287028000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11790786
+SPILL	COMPRESS_BYTE_COUNT	4621174
+SPILL	SORT_AND_SPILL	24837248000
+SPILL	QUICK_SORT	12630144000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	12053689000
+SPILL	WRITE	6061335000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11779170
+SPILL	COMPRESS_BYTE_COUNT	4611616
+SPILL	SORT_AND_SPILL	21719873101
+SPILL	QUICK_SORT	10232605000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11433976101
+SPILL	WRITE	5420259101
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11685789
+SPILL	COMPRESS_BYTE_COUNT	4572101
+SPILL	SORT_AND_SPILL	24517341000
+SPILL	QUICK_SORT	11387926000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	12886121000
+SPILL	WRITE	5965549000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11284503
+SPILL	COMPRESS_BYTE_COUNT	4387981
+SPILL	SORT_AND_SPILL	23998496101
+SPILL	QUICK_SORT	10309400000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	13634548101
+SPILL	WRITE	5649147000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11816053
+SPILL	COMPRESS_BYTE_COUNT	4615771
+SPILL	SORT_AND_SPILL	23812164000
+SPILL	QUICK_SORT	12794423000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10896554000
+SPILL	WRITE	5062886000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11090807
+SPILL	COMPRESS_BYTE_COUNT	4375551
+SPILL	SORT_AND_SPILL	23487456222
+SPILL	QUICK_SORT	10066413000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	13368840222
+SPILL	WRITE	5975033222
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11519378
+SPILL	COMPRESS_BYTE_COUNT	4536530
+SPILL	SORT_AND_SPILL	22704441000
+SPILL	QUICK_SORT	10358194000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	12210657000
+SPILL	WRITE	5626149000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11710457
+SPILL	COMPRESS_BYTE_COUNT	4580542
+SPILL	SORT_AND_SPILL	25316590000
+SPILL	QUICK_SORT	9860086000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	15396104000
+SPILL	WRITE	6492208000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12070608
+SPILL	COMPRESS_BYTE_COUNT	4800415
+SPILL	SORT_AND_SPILL	22770620000
+SPILL	QUICK_SORT	9995004000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	12653058000
+SPILL	WRITE	5905124000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11868923
+SPILL	COMPRESS_BYTE_COUNT	4725685
+SPILL	SORT_AND_SPILL	25458143000
+SPILL	QUICK_SORT	10071902000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	15333741000
+SPILL	WRITE	6869634000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11482749
+SPILL	COMPRESS_BYTE_COUNT	4530095
+SPILL	SORT_AND_SPILL	22294289000
+SPILL	QUICK_SORT	9978022000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	12178255000
+SPILL	WRITE	5954622000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11505252
+SPILL	COMPRESS_BYTE_COUNT	4512760
+SPILL	SORT_AND_SPILL	24354325000
+SPILL	QUICK_SORT	9806051000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	14493037000
+SPILL	WRITE	6770442000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11845843
+SPILL	COMPRESS_BYTE_COUNT	4645096
+SPILL	SORT_AND_SPILL	22401217949
+SPILL	QUICK_SORT	9396096949
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	12889534000
+SPILL	WRITE	6146183000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11014127
+SPILL	COMPRESS_BYTE_COUNT	4351581
+SPILL	SORT_AND_SPILL	25687953000
+SPILL	QUICK_SORT	10341772000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	15292133000
+SPILL	WRITE	6435256000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11676376
+SPILL	COMPRESS_BYTE_COUNT	4592249
+SPILL	SORT_AND_SPILL	24410187101
+SPILL	QUICK_SORT	9883802101
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	14408730000
+SPILL	WRITE	7109026000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11839472
+SPILL	COMPRESS_BYTE_COUNT	4641020
+SPILL	SORT_AND_SPILL	23499723000
+SPILL	QUICK_SORT	11586318000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11857514000
+SPILL	WRITE	5726771000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12268903
+SPILL	COMPRESS_BYTE_COUNT	4852067
+MAP	CLEANUP	64000
+MAP	CLEANUP_MEM	265425432
+MAP	TOTAL_RUN	674964301120
+MAP	READ	9279345000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	107437
+MAP	VALUE_BYTE_COUNT	32290187
+MAP	MAP	665599810120
+MAP	WRITE	628330241918
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	28108741101
+MAP	SERIALIZE_OUTPUT	516232020817
+MAP	MAP_MEM	265425432
+SPILL	SORT_AND_SPILL	21339471101
+SPILL	QUICK_SORT	9502588101
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11709745000
+SPILL	WRITE	5763174000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11807896
+SPILL	COMPRESS_BYTE_COUNT	4650609
+SPILL	SORT_AND_SPILL	1130047000
+SPILL	QUICK_SORT	428442000
+SPILL	SORT_COUNT	53757
+SPILL	COMBINE	684784000
+SPILL	WRITE	331884000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	837797
+SPILL	COMPRESS_BYTE_COUNT	322758
+MERGE	TOTAL_MERGE	243178189746
+MERGE	READ_WRITE	242290206746
+MERGE	READ_WRITE_COUNT	81
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	940364884967
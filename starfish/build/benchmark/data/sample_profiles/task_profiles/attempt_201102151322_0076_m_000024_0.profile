@@ -0,0 +1,219 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt/part-00121	0
+MAP	STARTUP_MEM	214769192
+MAP	SETUP	566000
+MAP	SETUP_MEM	214769192
+SPILL	SORT_AND_SPILL	24047590989
+SPILL	QUICK_SORT	11717567000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	11999504989
+SPILL	WRITE	5714207989
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11742720
+SPILL	COMPRESS_BYTE_COUNT	4576393
+SPILL	SORT_AND_SPILL	23204992000
+SPILL	QUICK_SORT	11649581000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11497645000
+SPILL	WRITE	5525187000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11938922
+SPILL	COMPRESS_BYTE_COUNT	4694460
+SPILL	SORT_AND_SPILL	20474054101
+SPILL	QUICK_SORT	9529742000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10819030101
+SPILL	WRITE	5248856000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11144641
+SPILL	COMPRESS_BYTE_COUNT	4369004
+SPILL	SORT_AND_SPILL	25430615000
+SPILL	QUICK_SORT	10494984000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	14877253000
+SPILL	WRITE	6867492000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11917875
+SPILL	COMPRESS_BYTE_COUNT	4708072
+SPILL	SORT_AND_SPILL	22100701000
+SPILL	QUICK_SORT	9864059000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	12041564000
+SPILL	WRITE	5756868000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11594143
+SPILL	COMPRESS_BYTE_COUNT	4578168
+SPILL	SORT_AND_SPILL	23060040000
+SPILL	QUICK_SORT	10055404000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	12945620000
+SPILL	WRITE	6169940000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11973573
+SPILL	COMPRESS_BYTE_COUNT	4736642
+SPILL	SORT_AND_SPILL	21799996000
+SPILL	QUICK_SORT	10035754000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11597669000
+SPILL	WRITE	5383974000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11791743
+SPILL	COMPRESS_BYTE_COUNT	4678419
+SPILL	SORT_AND_SPILL	21411276101
+SPILL	QUICK_SORT	9810730101
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11526973000
+SPILL	WRITE	5533993000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11883925
+SPILL	COMPRESS_BYTE_COUNT	4630567
+SPILL	SORT_AND_SPILL	21996557000
+SPILL	QUICK_SORT	10119892000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11632066000
+SPILL	WRITE	5528903000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11881885
+SPILL	COMPRESS_BYTE_COUNT	4712639
+SPILL	SORT_AND_SPILL	22748334101
+SPILL	QUICK_SORT	11397636101
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	11300506000
+SPILL	WRITE	5421720000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11674997
+SPILL	COMPRESS_BYTE_COUNT	4523385
+SPILL	SORT_AND_SPILL	22446091000
+SPILL	QUICK_SORT	10914427000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11201522000
+SPILL	WRITE	5341666000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11429609
+SPILL	COMPRESS_BYTE_COUNT	4488109
+SPILL	SORT_AND_SPILL	22900373101
+SPILL	QUICK_SORT	11442524000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11405117101
+SPILL	WRITE	5580502000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11705683
+SPILL	COMPRESS_BYTE_COUNT	4613276
+SPILL	SORT_AND_SPILL	24080754000
+SPILL	QUICK_SORT	11854605000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11950855000
+SPILL	WRITE	5778429000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11970623
+SPILL	COMPRESS_BYTE_COUNT	4669943
+SPILL	SORT_AND_SPILL	22010869222
+SPILL	QUICK_SORT	10479323000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11480519222
+SPILL	WRITE	5560396000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11433436
+SPILL	COMPRESS_BYTE_COUNT	4550253
+SPILL	SORT_AND_SPILL	24973331000
+SPILL	QUICK_SORT	10694803000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	13702733000
+SPILL	WRITE	6254358000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11810670
+SPILL	COMPRESS_BYTE_COUNT	4780731
+SPILL	SORT_AND_SPILL	23672874101
+SPILL	QUICK_SORT	10179622000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	13438192101
+SPILL	WRITE	6364997101
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11715578
+SPILL	COMPRESS_BYTE_COUNT	4635842
+SPILL	SORT_AND_SPILL	25786663000
+SPILL	QUICK_SORT	11132356000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	14464934000
+SPILL	WRITE	6608344000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12008843
+SPILL	COMPRESS_BYTE_COUNT	4708777
+SPILL	SORT_AND_SPILL	23441503253
+SPILL	QUICK_SORT	10094118000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	13227773253
+SPILL	WRITE	5850574253
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11809840
+SPILL	COMPRESS_BYTE_COUNT	4652760
+SPILL	SORT_AND_SPILL	24396594000
+SPILL	QUICK_SORT	9673804000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	14665405000
+SPILL	WRITE	6490984000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11888144
+SPILL	COMPRESS_BYTE_COUNT	4660892
+SPILL	SORT_AND_SPILL	25886749949
+SPILL	QUICK_SORT	9967381000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	15612394949
+SPILL	WRITE	6744852949
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11810225
+SPILL	COMPRESS_BYTE_COUNT	4679174
+SPILL	SORT_AND_SPILL	22943123000
+SPILL	QUICK_SORT	10029345000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	12780028000
+SPILL	WRITE	5788604000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11822243
+SPILL	COMPRESS_BYTE_COUNT	4620557
+SPILL	SORT_AND_SPILL	24272959101
+SPILL	QUICK_SORT	9420942000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	14802305101
+SPILL	WRITE	6185097000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11334357
+SPILL	COMPRESS_BYTE_COUNT	4464225
+SPILL	SORT_AND_SPILL	21533710000
+SPILL	QUICK_SORT	9799096000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11442700000
+SPILL	WRITE	5591286000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11748541
+SPILL	COMPRESS_BYTE_COUNT	4586545
+MAP	CLEANUP	106000
+MAP	CLEANUP_MEM	229550200
+MAP	TOTAL_RUN	655307971120
+MAP	READ	731764000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	124288
+MAP	VALUE_BYTE_COUNT	31561437
+MAP	MAP	653155195120
+MAP	WRITE	612982836120
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	31121969000
+MAP	SERIALIZE_OUTPUT	500776298120
+MAP	MAP_MEM	229550200
+SPILL	SORT_AND_SPILL	12132423000
+SPILL	QUICK_SORT	5228697000
+SPILL	SORT_COUNT	477188
+SPILL	COMBINE	6859140000
+SPILL	WRITE	3086185000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	6915220
+SPILL	COMPRESS_BYTE_COUNT	2712024
+MERGE	TOTAL_MERGE	246810929847
+MERGE	READ_WRITE	245701680847
+MERGE	READ_WRITE_COUNT	81
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	914774956967
@@ -0,0 +1,211 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt/part-00129	0
+MAP	STARTUP_MEM	214800816
+MAP	SETUP	582000
+MAP	SETUP_MEM	214800816
+SPILL	SORT_AND_SPILL	25734582000
+SPILL	QUICK_SORT	12956802000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	12543003000
+SPILL	WRITE	6105427000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11647718
+SPILL	COMPRESS_BYTE_COUNT	4569194
+SPILL	SORT_AND_SPILL	25027261756
+SPILL	QUICK_SORT	11111954000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11915224756
+SPILL	WRITE	5486872756
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11487884
+SPILL	COMPRESS_BYTE_COUNT	4466643
+SPILL	SORT_AND_SPILL	24585846000
+SPILL	QUICK_SORT	12268546000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	12170639000
+SPILL	WRITE	5711059000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11599358
+SPILL	COMPRESS_BYTE_COUNT	4592082
+SPILL	SORT_AND_SPILL	24211878000
+SPILL	QUICK_SORT	12917636000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11042794000
+SPILL	WRITE	5435881000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11255614
+SPILL	COMPRESS_BYTE_COUNT	4530638
+SPILL	SORT_AND_SPILL	22864299000
+SPILL	QUICK_SORT	11285102000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	11520822000
+SPILL	WRITE	5668547000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11637222
+SPILL	COMPRESS_BYTE_COUNT	4539393
+SPILL	SORT_AND_SPILL	23172731000
+SPILL	QUICK_SORT	11226472000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11748173000
+SPILL	WRITE	5860029000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11877472
+SPILL	COMPRESS_BYTE_COUNT	4609372
+SPILL	SORT_AND_SPILL	23699250756
+SPILL	QUICK_SORT	11210438756
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	12426688000
+SPILL	WRITE	6124863000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11736980
+SPILL	COMPRESS_BYTE_COUNT	4580081
+SPILL	SORT_AND_SPILL	25059007000
+SPILL	QUICK_SORT	10612563000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	14307433000
+SPILL	WRITE	6472497000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11743179
+SPILL	COMPRESS_BYTE_COUNT	4588572
+SPILL	SORT_AND_SPILL	23739395756
+SPILL	QUICK_SORT	11163857756
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	12429186000
+SPILL	WRITE	5881599000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12031970
+SPILL	COMPRESS_BYTE_COUNT	4725164
+SPILL	SORT_AND_SPILL	24503899000
+SPILL	QUICK_SORT	11704278000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	12408640000
+SPILL	WRITE	5591290000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11716482
+SPILL	COMPRESS_BYTE_COUNT	4574411
+SPILL	SORT_AND_SPILL	27071489756
+SPILL	QUICK_SORT	12986877756
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	14019530000
+SPILL	WRITE	6764478000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11904937
+SPILL	COMPRESS_BYTE_COUNT	4675049
+SPILL	SORT_AND_SPILL	23515436000
+SPILL	QUICK_SORT	11134411000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	12105218000
+SPILL	WRITE	5900345000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11655843
+SPILL	COMPRESS_BYTE_COUNT	4599040
+SPILL	SORT_AND_SPILL	23632962755
+SPILL	QUICK_SORT	10614428755
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	12894120000
+SPILL	WRITE	6168577000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11871421
+SPILL	COMPRESS_BYTE_COUNT	4677720
+SPILL	SORT_AND_SPILL	24192058000
+SPILL	QUICK_SORT	10154116000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	13380593000
+SPILL	WRITE	6756136000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11815431
+SPILL	COMPRESS_BYTE_COUNT	4649435
+SPILL	SORT_AND_SPILL	23032185756
+SPILL	QUICK_SORT	11246931756
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	11721501000
+SPILL	WRITE	5720229000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12049374
+SPILL	COMPRESS_BYTE_COUNT	4859114
+SPILL	SORT_AND_SPILL	26310531000
+SPILL	QUICK_SORT	10387520000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	15783220000
+SPILL	WRITE	6681644000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11779120
+SPILL	COMPRESS_BYTE_COUNT	4628542
+SPILL	SORT_AND_SPILL	25234163756
+SPILL	QUICK_SORT	10447695756
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	14598020000
+SPILL	WRITE	7287152000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11982332
+SPILL	COMPRESS_BYTE_COUNT	4763133
+SPILL	SORT_AND_SPILL	25175453000
+SPILL	QUICK_SORT	10237350000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	14870245000
+SPILL	WRITE	6877817000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11923607
+SPILL	COMPRESS_BYTE_COUNT	4721660
+SPILL	SORT_AND_SPILL	26505419756
+SPILL	QUICK_SORT	10530239756
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	15604621000
+SPILL	WRITE	7500596000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12018155
+SPILL	COMPRESS_BYTE_COUNT	4746371
+SPILL	SORT_AND_SPILL	23912475000
+SPILL	QUICK_SORT	10269947000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	12836361000
+SPILL	WRITE	5754442000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11790872
+SPILL	COMPRESS_BYTE_COUNT	4617407
+SPILL	SORT_AND_SPILL	24020640756
+SPILL	QUICK_SORT	10236378756
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	13720330000
+SPILL	WRITE	6307656000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11758409
+SPILL	COMPRESS_BYTE_COUNT	4572708
+SPILL	SORT_AND_SPILL	26364084000
+SPILL	QUICK_SORT	10856681000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	15367569000
+SPILL	WRITE	7073933000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11817158
+SPILL	COMPRESS_BYTE_COUNT	4665539
+MAP	CLEANUP	104000
+MAP	CLEANUP_MEM	246867896
+MAP	TOTAL_RUN	647326079331
+MAP	READ	1173529000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	116108
+MAP	VALUE_BYTE_COUNT	30436281
+MAP	MAP	646063870331
+MAP	WRITE	614314183331
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	25527026772
+MAP	SERIALIZE_OUTPUT	515775293803
+MAP	MAP_MEM	246867896
+SPILL	SORT_AND_SPILL	10842902000
+SPILL	QUICK_SORT	4247291000
+SPILL	SORT_COUNT	398557
+SPILL	COMBINE	6564365000
+SPILL	WRITE	3164632000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	5664932
+SPILL	COMPRESS_BYTE_COUNT	2214783
+MERGE	TOTAL_MERGE	238808930023
+MERGE	READ_WRITE	236461200023
+MERGE	READ_WRITE_COUNT	81
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	897464441354
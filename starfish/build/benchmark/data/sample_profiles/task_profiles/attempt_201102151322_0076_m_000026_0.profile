@@ -0,0 +1,211 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt/part-00125	0
+MAP	STARTUP_MEM	214764400
+MAP	SETUP	1355000
+MAP	SETUP_MEM	214764400
+SPILL	SORT_AND_SPILL	25638105000
+SPILL	QUICK_SORT	13250359000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	12161646000
+SPILL	WRITE	5829655000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11797870
+SPILL	COMPRESS_BYTE_COUNT	4592026
+SPILL	SORT_AND_SPILL	25342630756
+SPILL	QUICK_SORT	13190307000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11972082756
+SPILL	WRITE	6092330756
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11654874
+SPILL	COMPRESS_BYTE_COUNT	4592663
+SPILL	SORT_AND_SPILL	24906763000
+SPILL	QUICK_SORT	11974162000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	12203163000
+SPILL	WRITE	5860261000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12063562
+SPILL	COMPRESS_BYTE_COUNT	4793492
+SPILL	SORT_AND_SPILL	23341239756
+SPILL	QUICK_SORT	12042886000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11245959756
+SPILL	WRITE	5380379756
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11132795
+SPILL	COMPRESS_BYTE_COUNT	4376010
+SPILL	SORT_AND_SPILL	21855101000
+SPILL	QUICK_SORT	10231851000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	10093323000
+SPILL	WRITE	4719993000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	9824856
+SPILL	COMPRESS_BYTE_COUNT	3728857
+SPILL	SORT_AND_SPILL	23505303000
+SPILL	QUICK_SORT	11981466000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11471961000
+SPILL	WRITE	5733800000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11334881
+SPILL	COMPRESS_BYTE_COUNT	4398289
+SPILL	SORT_AND_SPILL	25472351000
+SPILL	QUICK_SORT	11206833000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	13460083000
+SPILL	WRITE	6368062000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11890961
+SPILL	COMPRESS_BYTE_COUNT	4655073
+SPILL	SORT_AND_SPILL	23727139000
+SPILL	QUICK_SORT	10969801000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	12676518000
+SPILL	WRITE	6194510000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11711705
+SPILL	COMPRESS_BYTE_COUNT	4605646
+SPILL	SORT_AND_SPILL	23887608000
+SPILL	QUICK_SORT	11188622000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	12112256000
+SPILL	WRITE	5950913000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11561533
+SPILL	COMPRESS_BYTE_COUNT	4585696
+SPILL	SORT_AND_SPILL	22700658000
+SPILL	QUICK_SORT	10930676000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	11567437000
+SPILL	WRITE	5540214000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12032850
+SPILL	COMPRESS_BYTE_COUNT	4779296
+SPILL	SORT_AND_SPILL	22818151000
+SPILL	QUICK_SORT	11030724000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11622018000
+SPILL	WRITE	5676772000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11704759
+SPILL	COMPRESS_BYTE_COUNT	4589524
+SPILL	SORT_AND_SPILL	24264060000
+SPILL	QUICK_SORT	12240111000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11970100000
+SPILL	WRITE	5565672000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11342858
+SPILL	COMPRESS_BYTE_COUNT	4434304
+SPILL	SORT_AND_SPILL	25989542000
+SPILL	QUICK_SORT	11704625000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	13706749000
+SPILL	WRITE	6560766000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11623940
+SPILL	COMPRESS_BYTE_COUNT	4526247
+SPILL	SORT_AND_SPILL	24216406000
+SPILL	QUICK_SORT	10805437000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	12530153000
+SPILL	WRITE	6198324000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11743720
+SPILL	COMPRESS_BYTE_COUNT	4611201
+SPILL	SORT_AND_SPILL	26349578000
+SPILL	QUICK_SORT	11623436000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	14572152000
+SPILL	WRITE	6875044000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12303389
+SPILL	COMPRESS_BYTE_COUNT	4742803
+SPILL	SORT_AND_SPILL	23897169000
+SPILL	QUICK_SORT	10275022000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	13491762000
+SPILL	WRITE	6041811000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11383703
+SPILL	COMPRESS_BYTE_COUNT	4364297
+SPILL	SORT_AND_SPILL	24122103000
+SPILL	QUICK_SORT	10504584000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	13556539000
+SPILL	WRITE	6561204000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11650426
+SPILL	COMPRESS_BYTE_COUNT	4563016
+SPILL	SORT_AND_SPILL	25199774000
+SPILL	QUICK_SORT	10384888000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	14377593000
+SPILL	WRITE	6691715000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11587706
+SPILL	COMPRESS_BYTE_COUNT	4485030
+SPILL	SORT_AND_SPILL	23323198000
+SPILL	QUICK_SORT	10015387000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	13110234000
+SPILL	WRITE	5897102000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11746134
+SPILL	COMPRESS_BYTE_COUNT	4594509
+SPILL	SORT_AND_SPILL	24777608000
+SPILL	QUICK_SORT	10808760000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	13655225000
+SPILL	WRITE	6299451000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11848819
+SPILL	COMPRESS_BYTE_COUNT	4610966
+SPILL	SORT_AND_SPILL	25252895000
+SPILL	QUICK_SORT	10021966000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	13838021000
+SPILL	WRITE	6305693000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11485115
+SPILL	COMPRESS_BYTE_COUNT	4521313
+SPILL	SORT_AND_SPILL	21708169000
+SPILL	QUICK_SORT	10111980000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11435881000
+SPILL	WRITE	5524057000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11206047
+SPILL	COMPRESS_BYTE_COUNT	4433044
+MAP	CLEANUP	71000
+MAP	CLEANUP_MEM	234001096
+MAP	TOTAL_RUN	656281127331
+MAP	READ	2848598772
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	99875
+MAP	VALUE_BYTE_COUNT	29960212
+MAP	MAP	653345220559
+MAP	WRITE	614848650803
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	30538331000
+MAP	SERIALIZE_OUTPUT	492197756024
+MAP	MAP_MEM	234048584
+SPILL	SORT_AND_SPILL	8840072756
+SPILL	QUICK_SORT	3527343000
+SPILL	SORT_COUNT	343569
+SPILL	COMBINE	5131569756
+SPILL	WRITE	2394025000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	4994343
+SPILL	COMPRESS_BYTE_COUNT	1946511
+MERGE	TOTAL_MERGE	232867912267
+MERGE	READ_WRITE	231499522267
+MERGE	READ_WRITE_COUNT	81
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	898502855354
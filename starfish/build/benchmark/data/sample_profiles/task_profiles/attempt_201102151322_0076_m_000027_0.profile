@@ -0,0 +1,203 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt/part-00128	0
+MAP	STARTUP_MEM	214805664
+MAP	SETUP	654000
+MAP	SETUP_MEM	214805664
+SPILL	SORT_AND_SPILL	26479850000
+SPILL	QUICK_SORT	14950431000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	11195529000
+SPILL	WRITE	5889946000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11442112
+SPILL	COMPRESS_BYTE_COUNT	4458236
+SPILL	SORT_AND_SPILL	25296006000
+SPILL	QUICK_SORT	13296416000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11540158000
+SPILL	WRITE	5694562000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11474744
+SPILL	COMPRESS_BYTE_COUNT	4576530
+SPILL	SORT_AND_SPILL	26186159000
+SPILL	QUICK_SORT	13367466000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	12741780000
+SPILL	WRITE	5954115000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11653622
+SPILL	COMPRESS_BYTE_COUNT	4588403
+SPILL	SORT_AND_SPILL	26153017000
+SPILL	QUICK_SORT	13274660000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	12642448000
+SPILL	WRITE	5935568000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11886484
+SPILL	COMPRESS_BYTE_COUNT	4672611
+SPILL	SORT_AND_SPILL	25651652000
+SPILL	QUICK_SORT	12706684000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	12859324000
+SPILL	WRITE	6368426000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11846679
+SPILL	COMPRESS_BYTE_COUNT	4641988
+SPILL	SORT_AND_SPILL	25142821000
+SPILL	QUICK_SORT	13688097000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11131387000
+SPILL	WRITE	5413070000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11608940
+SPILL	COMPRESS_BYTE_COUNT	4603827
+SPILL	SORT_AND_SPILL	25609792000
+SPILL	QUICK_SORT	12035140000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	13477313000
+SPILL	WRITE	6769979000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11649062
+SPILL	COMPRESS_BYTE_COUNT	4609561
+SPILL	SORT_AND_SPILL	25349703000
+SPILL	QUICK_SORT	13092671000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11001932000
+SPILL	WRITE	5362986000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11780784
+SPILL	COMPRESS_BYTE_COUNT	4626652
+SPILL	SORT_AND_SPILL	25040775000
+SPILL	QUICK_SORT	14180783000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10794133000
+SPILL	WRITE	5381987000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11341944
+SPILL	COMPRESS_BYTE_COUNT	4427416
+SPILL	SORT_AND_SPILL	24823611000
+SPILL	QUICK_SORT	12351544000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	11119341000
+SPILL	WRITE	5619092000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11834758
+SPILL	COMPRESS_BYTE_COUNT	4619409
+SPILL	SORT_AND_SPILL	24522911000
+SPILL	QUICK_SORT	13344100000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11072264000
+SPILL	WRITE	5383577000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11534682
+SPILL	COMPRESS_BYTE_COUNT	4528957
+SPILL	SORT_AND_SPILL	25325041000
+SPILL	QUICK_SORT	13732793000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11460121000
+SPILL	WRITE	5644650000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11497080
+SPILL	COMPRESS_BYTE_COUNT	4464579
+SPILL	SORT_AND_SPILL	23931468000
+SPILL	QUICK_SORT	12863230000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10991583000
+SPILL	WRITE	5476938000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11847619
+SPILL	COMPRESS_BYTE_COUNT	4672043
+SPILL	SORT_AND_SPILL	25411349261
+SPILL	QUICK_SORT	14257250000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10996092261
+SPILL	WRITE	5486766261
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11790637
+SPILL	COMPRESS_BYTE_COUNT	4600117
+SPILL	SORT_AND_SPILL	24445858000
+SPILL	QUICK_SORT	13224900000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	11124287000
+SPILL	WRITE	5544101000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11751537
+SPILL	COMPRESS_BYTE_COUNT	4584729
+SPILL	SORT_AND_SPILL	24990897000
+SPILL	QUICK_SORT	13037794000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11584841000
+SPILL	WRITE	5515339000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11775566
+SPILL	COMPRESS_BYTE_COUNT	4593753
+SPILL	SORT_AND_SPILL	24748550000
+SPILL	QUICK_SORT	13687177000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10991666000
+SPILL	WRITE	5481467000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11783045
+SPILL	COMPRESS_BYTE_COUNT	4596661
+SPILL	SORT_AND_SPILL	22605402000
+SPILL	QUICK_SORT	11383853000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10168535000
+SPILL	WRITE	5007637000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11038444
+SPILL	COMPRESS_BYTE_COUNT	4397118
+SPILL	SORT_AND_SPILL	23103740000
+SPILL	QUICK_SORT	12059129000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10974327000
+SPILL	WRITE	5292566000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11854348
+SPILL	COMPRESS_BYTE_COUNT	4694388
+SPILL	SORT_AND_SPILL	22904016000
+SPILL	QUICK_SORT	11288679000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	10800614000
+SPILL	WRITE	5364521000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11468500
+SPILL	COMPRESS_BYTE_COUNT	4521747
+SPILL	SORT_AND_SPILL	23100225000
+SPILL	QUICK_SORT	11984121000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11048295000
+SPILL	WRITE	5484829000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11620754
+SPILL	COMPRESS_BYTE_COUNT	4542415
+MAP	CLEANUP	69000
+MAP	CLEANUP_MEM	252974224
+MAP	TOTAL_RUN	607448924261
+MAP	READ	670544000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	100894
+MAP	VALUE_BYTE_COUNT	28725378
+MAP	MAP	606567397261
+MAP	WRITE	579719788261
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	23681617000
+MAP	SERIALIZE_OUTPUT	494493485261
+MAP	MAP_MEM	252974224
+SPILL	SORT_AND_SPILL	8097530000
+SPILL	QUICK_SORT	3941343000
+SPILL	SORT_COUNT	306710
+SPILL	COMBINE	4056345000
+SPILL	WRITE	2057729000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	4546194
+SPILL	COMPRESS_BYTE_COUNT	1785190
+MERGE	TOTAL_MERGE	207973621000
+MERGE	READ_WRITE	207183793000
+MERGE	READ_WRITE_COUNT	81
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	824151855261
@@ -0,0 +1,195 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt/part-00120	0
+MAP	STARTUP_MEM	214824872
+MAP	SETUP	510000
+MAP	SETUP_MEM	214824872
+SPILL	SORT_AND_SPILL	24776005000
+SPILL	QUICK_SORT	12802284000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	11811888000
+SPILL	WRITE	5987439000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11710868
+SPILL	COMPRESS_BYTE_COUNT	4614127
+SPILL	SORT_AND_SPILL	22651123000
+SPILL	QUICK_SORT	11614537000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10984940000
+SPILL	WRITE	5937228000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11438104
+SPILL	COMPRESS_BYTE_COUNT	4504119
+SPILL	SORT_AND_SPILL	21062409000
+SPILL	QUICK_SORT	9555043000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11351905000
+SPILL	WRITE	5887989000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11546192
+SPILL	COMPRESS_BYTE_COUNT	4516484
+SPILL	SORT_AND_SPILL	21610957000
+SPILL	QUICK_SORT	10491871000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11062788000
+SPILL	WRITE	5809703000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11865194
+SPILL	COMPRESS_BYTE_COUNT	4675259
+SPILL	SORT_AND_SPILL	25018298000
+SPILL	QUICK_SORT	10000328000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	13651210000
+SPILL	WRITE	7074297000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11723864
+SPILL	COMPRESS_BYTE_COUNT	4597091
+SPILL	SORT_AND_SPILL	20161299000
+SPILL	QUICK_SORT	9306704000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10796729000
+SPILL	WRITE	5744042000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	10681096
+SPILL	COMPRESS_BYTE_COUNT	4193542
+SPILL	SORT_AND_SPILL	22934528000
+SPILL	QUICK_SORT	9582381000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	12921572000
+SPILL	WRITE	6862915000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11838247
+SPILL	COMPRESS_BYTE_COUNT	4629665
+SPILL	SORT_AND_SPILL	20093196000
+SPILL	QUICK_SORT	9601714000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10429761000
+SPILL	WRITE	5407437000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11508195
+SPILL	COMPRESS_BYTE_COUNT	4501208
+SPILL	SORT_AND_SPILL	21084668000
+SPILL	QUICK_SORT	10669613000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10299505000
+SPILL	WRITE	5409400000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11359824
+SPILL	COMPRESS_BYTE_COUNT	4433172
+SPILL	SORT_AND_SPILL	20911819000
+SPILL	QUICK_SORT	9781705000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	11075505000
+SPILL	WRITE	5752331000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11042060
+SPILL	COMPRESS_BYTE_COUNT	4336998
+SPILL	SORT_AND_SPILL	21532029000
+SPILL	QUICK_SORT	10330671000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10799758000
+SPILL	WRITE	5721880000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11418632
+SPILL	COMPRESS_BYTE_COUNT	4478982
+SPILL	SORT_AND_SPILL	22099770000
+SPILL	QUICK_SORT	11287319000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10763655000
+SPILL	WRITE	5788990000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11308879
+SPILL	COMPRESS_BYTE_COUNT	4408368
+SPILL	SORT_AND_SPILL	20092528000
+SPILL	QUICK_SORT	9552218000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	9582601000
+SPILL	WRITE	4823188000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	10648226
+SPILL	COMPRESS_BYTE_COUNT	4172138
+SPILL	SORT_AND_SPILL	21825188000
+SPILL	QUICK_SORT	11199361000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10577725000
+SPILL	WRITE	5205398000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11222177
+SPILL	COMPRESS_BYTE_COUNT	4408314
+SPILL	SORT_AND_SPILL	21782477000
+SPILL	QUICK_SORT	11320098000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	10333911000
+SPILL	WRITE	5223579000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11649670
+SPILL	COMPRESS_BYTE_COUNT	4580403
+SPILL	SORT_AND_SPILL	21555271000
+SPILL	QUICK_SORT	11253227000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10248932000
+SPILL	WRITE	5279728000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11539627
+SPILL	COMPRESS_BYTE_COUNT	4572208
+SPILL	SORT_AND_SPILL	20773680000
+SPILL	QUICK_SORT	11135342000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	9512539000
+SPILL	WRITE	4816372000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	10559841
+SPILL	COMPRESS_BYTE_COUNT	4143076
+SPILL	SORT_AND_SPILL	21354435000
+SPILL	QUICK_SORT	11238267000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10067041000
+SPILL	WRITE	5199050000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11323082
+SPILL	COMPRESS_BYTE_COUNT	4441460
+SPILL	SORT_AND_SPILL	18710313000
+SPILL	QUICK_SORT	9570465000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	8325352000
+SPILL	WRITE	4041910000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	8944748
+SPILL	COMPRESS_BYTE_COUNT	3517236
+MAP	CLEANUP	554089000
+MAP	CLEANUP_MEM	212216712
+MAP	TOTAL_RUN	499814875000
+MAP	READ	1383945000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	129392
+MAP	VALUE_BYTE_COUNT	27166383
+MAP	MAP	497787064000
+MAP	WRITE	474592743000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	19942109000
+MAP	SERIALIZE_OUTPUT	384120048000
+MAP	MAP_MEM	212216712
+SPILL	SORT_AND_SPILL	21022630000
+SPILL	QUICK_SORT	11172371000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	9802379000
+SPILL	WRITE	4995285000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	10720450
+SPILL	COMPRESS_BYTE_COUNT	4227061
+SPILL	SORT_AND_SPILL	3223824000
+SPILL	QUICK_SORT	1263829000
+SPILL	SORT_COUNT	132963
+SPILL	COMBINE	1874475000
+SPILL	WRITE	975524000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	2046012
+SPILL	COMPRESS_BYTE_COUNT	785154
+MERGE	TOTAL_MERGE	206965868000
+MERGE	READ_WRITE	205675876000
+MERGE	READ_WRITE_COUNT	81
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	729057716000
@@ -0,0 +1,171 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt/part-00114	0
+MAP	STARTUP_MEM	214818336
+MAP	SETUP	580000
+MAP	SETUP_MEM	214818336
+SPILL	SORT_AND_SPILL	24053603000
+SPILL	QUICK_SORT	13908901000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	9672287000
+SPILL	WRITE	4622168000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	9714936
+SPILL	COMPRESS_BYTE_COUNT	3855238
+SPILL	SORT_AND_SPILL	22673537000
+SPILL	QUICK_SORT	13593383000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	9014726000
+SPILL	WRITE	4399313000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	9245411
+SPILL	COMPRESS_BYTE_COUNT	3684145
+SPILL	SORT_AND_SPILL	22152391000
+SPILL	QUICK_SORT	12458512000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	9536041000
+SPILL	WRITE	4158998000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	8922867
+SPILL	COMPRESS_BYTE_COUNT	3523714
+SPILL	SORT_AND_SPILL	22676895000
+SPILL	QUICK_SORT	12298037000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10278305000
+SPILL	WRITE	4888178000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	10294773
+SPILL	COMPRESS_BYTE_COUNT	4068084
+SPILL	SORT_AND_SPILL	23678231000
+SPILL	QUICK_SORT	11880321000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	11588880000
+SPILL	WRITE	5677220000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	10716744
+SPILL	COMPRESS_BYTE_COUNT	4256475
+SPILL	SORT_AND_SPILL	19349029000
+SPILL	QUICK_SORT	10493399000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	8776924000
+SPILL	WRITE	4184450000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	8684005
+SPILL	COMPRESS_BYTE_COUNT	3460326
+SPILL	SORT_AND_SPILL	24058717000
+SPILL	QUICK_SORT	12585214000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11319720000
+SPILL	WRITE	5832806000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11036220
+SPILL	COMPRESS_BYTE_COUNT	4353118
+SPILL	SORT_AND_SPILL	24123954000
+SPILL	QUICK_SORT	12744879000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11316974000
+SPILL	WRITE	5647427000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11116467
+SPILL	COMPRESS_BYTE_COUNT	4400774
+SPILL	SORT_AND_SPILL	23604466000
+SPILL	QUICK_SORT	13468138000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	9643826000
+SPILL	WRITE	4621969000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	9963115
+SPILL	COMPRESS_BYTE_COUNT	3897102
+SPILL	SORT_AND_SPILL	24554248000
+SPILL	QUICK_SORT	13878919000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	10604823000
+SPILL	WRITE	5301760000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11258957
+SPILL	COMPRESS_BYTE_COUNT	4410410
+SPILL	SORT_AND_SPILL	25230950000
+SPILL	QUICK_SORT	12943274000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11512802000
+SPILL	WRITE	5818992000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11851861
+SPILL	COMPRESS_BYTE_COUNT	4658295
+SPILL	SORT_AND_SPILL	24131710000
+SPILL	QUICK_SORT	12913210000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10521472000
+SPILL	WRITE	5208063000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	10197892
+SPILL	COMPRESS_BYTE_COUNT	4008847
+SPILL	SORT_AND_SPILL	24336202000
+SPILL	QUICK_SORT	13408059000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10870198000
+SPILL	WRITE	5132051000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	10921382
+SPILL	COMPRESS_BYTE_COUNT	4290375
+SPILL	SORT_AND_SPILL	24320237000
+SPILL	QUICK_SORT	12744401000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10917220000
+SPILL	WRITE	5497895000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11894554
+SPILL	COMPRESS_BYTE_COUNT	4659521
+SPILL	SORT_AND_SPILL	25289437261
+SPILL	QUICK_SORT	13616596261
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	11607553000
+SPILL	WRITE	5986870000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11671363
+SPILL	COMPRESS_BYTE_COUNT	4592462
+SPILL	SORT_AND_SPILL	25308822000
+SPILL	QUICK_SORT	13122368000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11564237000
+SPILL	WRITE	5717150000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12074040
+SPILL	COMPRESS_BYTE_COUNT	4606687
+SPILL	SORT_AND_SPILL	18292790000
+SPILL	QUICK_SORT	9899173000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	8325934000
+SPILL	WRITE	3844150000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	8316316
+SPILL	COMPRESS_BYTE_COUNT	3269037
+MAP	CLEANUP	68000
+MAP	CLEANUP_MEM	269944656
+MAP	TOTAL_RUN	475058726261
+MAP	READ	887459000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	117648
+MAP	VALUE_BYTE_COUNT	23985066
+MAP	MAP	474090123261
+MAP	WRITE	447092742261
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	16761505000
+MAP	SERIALIZE_OUTPUT	358150670261
+MAP	MAP_MEM	269944656
+SPILL	SORT_AND_SPILL	18452132000
+SPILL	QUICK_SORT	9795983000
+SPILL	SORT_COUNT	634495
+SPILL	COMBINE	8536252000
+SPILL	WRITE	4334839000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	9118443
+SPILL	COMPRESS_BYTE_COUNT	3576586
+MERGE	TOTAL_MERGE	161945918000
+MERGE	READ_WRITE	161240799000
+MERGE	READ_WRITE_COUNT	54
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	656005511261
@@ -0,0 +1 @@
+TASK	TOTAL_RUN	59152000
@@ -0,0 +1,149 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	8371258
+SHUFFLE	COMPRESS_BYTE_COUNT	2536568
+SHUFFLE	COPY_MAP_DATA	267534000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	6952026
+SHUFFLE	COMPRESS_BYTE_COUNT	2166764
+SHUFFLE	COPY_MAP_DATA	153456000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9228796
+SHUFFLE	COMPRESS_BYTE_COUNT	2779374
+SHUFFLE	COPY_MAP_DATA	227425000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10183838
+SHUFFLE	COMPRESS_BYTE_COUNT	3043468
+SHUFFLE	COPY_MAP_DATA	347728000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10302418
+SHUFFLE	COMPRESS_BYTE_COUNT	3037261
+SHUFFLE	COPY_MAP_DATA	176291000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10547246
+SHUFFLE	COMPRESS_BYTE_COUNT	3133923
+SHUFFLE	COPY_MAP_DATA	179510000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10687098
+SHUFFLE	COMPRESS_BYTE_COUNT	3139187
+SHUFFLE	COPY_MAP_DATA	254325000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10747018
+SHUFFLE	COMPRESS_BYTE_COUNT	3159752
+SHUFFLE	COPY_MAP_DATA	225928000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9809484
+SHUFFLE	COMPRESS_BYTE_COUNT	2963475
+SHUFFLE	COPY_MAP_DATA	171202000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9593150
+SHUFFLE	COMPRESS_BYTE_COUNT	2860996
+SHUFFLE	COPY_MAP_DATA	163754000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10238206
+SHUFFLE	COMPRESS_BYTE_COUNT	3040947
+SHUFFLE	COPY_MAP_DATA	184824000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10592088
+SHUFFLE	COMPRESS_BYTE_COUNT	3136538
+SHUFFLE	COPY_MAP_DATA	205055000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10349476
+SHUFFLE	COMPRESS_BYTE_COUNT	3088099
+SHUFFLE	COPY_MAP_DATA	173484000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10479723
+SHUFFLE	COMPRESS_BYTE_COUNT	3086930
+SHUFFLE	COPY_MAP_DATA	195115000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11212042
+SHUFFLE	COMPRESS_BYTE_COUNT	3288914
+SHUFFLE	COPY_MAP_DATA	185318000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11647666
+SHUFFLE	COMPRESS_BYTE_COUNT	3400749
+SHUFFLE	COPY_MAP_DATA	205586000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11954130
+SHUFFLE	COMPRESS_BYTE_COUNT	3455871
+SHUFFLE	COPY_MAP_DATA	195833000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11687854
+SHUFFLE	COMPRESS_BYTE_COUNT	3420725
+SHUFFLE	COPY_MAP_DATA	170772000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12095996
+SHUFFLE	COMPRESS_BYTE_COUNT	3467330
+SHUFFLE	COPY_MAP_DATA	1131877000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12557208
+SHUFFLE	COMPRESS_BYTE_COUNT	3651241
+SHUFFLE	COPY_MAP_DATA	672166000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12737488
+SHUFFLE	COMPRESS_BYTE_COUNT	3686599
+SHUFFLE	COPY_MAP_DATA	643876000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12455482
+SHUFFLE	COMPRESS_BYTE_COUNT	3629689
+SHUFFLE	COPY_MAP_DATA	201746000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12995736
+SHUFFLE	COMPRESS_BYTE_COUNT	3750617
+SHUFFLE	COPY_MAP_DATA	236888000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12955886
+SHUFFLE	COMPRESS_BYTE_COUNT	3737627
+SHUFFLE	COPY_MAP_DATA	200267000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12914942
+SHUFFLE	COMPRESS_BYTE_COUNT	3720076
+SHUFFLE	COPY_MAP_DATA	518556000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13367147
+SHUFFLE	COMPRESS_BYTE_COUNT	3836371
+SHUFFLE	COPY_MAP_DATA	203740000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12228697
+SHUFFLE	COMPRESS_BYTE_COUNT	3550784
+SHUFFLE	COPY_MAP_DATA	1193141000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13056583
+SHUFFLE	COMPRESS_BYTE_COUNT	3773008
+SHUFFLE	COPY_MAP_DATA	282719000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13658100
+SHUFFLE	COMPRESS_BYTE_COUNT	3892831
+SHUFFLE	COPY_MAP_DATA	306847000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13721314
+SHUFFLE	COMPRESS_BYTE_COUNT	3894066
+SHUFFLE	COPY_MAP_DATA	254377000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	172290123000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	COMBINE	172074816000
+MERGE	WRITE	70055878000
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	11942448000
+SORT	READ_WRITE	11822613000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	230781672
+REDUCE	SETUP	342000
+REDUCE	SETUP_MEM	230781672
+REDUCE	CLEANUP	32000
+REDUCE	CLEANUP_MEM	253134552
+REDUCE	TOTAL_RUN	104494197000
+REDUCE	READ	20393742000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	48964568000
+REDUCE	WRITE	22749897000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	115457728
+REDUCE	VALUE_BYTE_COUNT	6903047
+REDUCE	REDUCE_MEM	253134552
+REDUCE	WRITE	409066000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	937856812000
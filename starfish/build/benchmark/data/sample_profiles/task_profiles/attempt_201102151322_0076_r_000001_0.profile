@@ -0,0 +1,149 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	8370910
+SHUFFLE	COMPRESS_BYTE_COUNT	2534090
+SHUFFLE	COPY_MAP_DATA	1089298000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	6900890
+SHUFFLE	COMPRESS_BYTE_COUNT	2150403
+SHUFFLE	COPY_MAP_DATA	200387000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9216240
+SHUFFLE	COMPRESS_BYTE_COUNT	2776700
+SHUFFLE	COPY_MAP_DATA	483881000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10218532
+SHUFFLE	COMPRESS_BYTE_COUNT	3059966
+SHUFFLE	COPY_MAP_DATA	1100924000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10367617
+SHUFFLE	COMPRESS_BYTE_COUNT	3053862
+SHUFFLE	COPY_MAP_DATA	201668000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10511386
+SHUFFLE	COMPRESS_BYTE_COUNT	3117083
+SHUFFLE	COPY_MAP_DATA	845995000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10701156
+SHUFFLE	COMPRESS_BYTE_COUNT	3142885
+SHUFFLE	COPY_MAP_DATA	298125000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10744782
+SHUFFLE	COMPRESS_BYTE_COUNT	3155637
+SHUFFLE	COPY_MAP_DATA	182903000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9814948
+SHUFFLE	COMPRESS_BYTE_COUNT	2969747
+SHUFFLE	COPY_MAP_DATA	250952000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9570118
+SHUFFLE	COMPRESS_BYTE_COUNT	2858308
+SHUFFLE	COPY_MAP_DATA	157747000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10209154
+SHUFFLE	COMPRESS_BYTE_COUNT	3035516
+SHUFFLE	COPY_MAP_DATA	181867000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10598709
+SHUFFLE	COMPRESS_BYTE_COUNT	3141945
+SHUFFLE	COPY_MAP_DATA	228574000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10316383
+SHUFFLE	COMPRESS_BYTE_COUNT	3087179
+SHUFFLE	COPY_MAP_DATA	202690000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10436567
+SHUFFLE	COMPRESS_BYTE_COUNT	3077779
+SHUFFLE	COPY_MAP_DATA	930874000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11659353
+SHUFFLE	COMPRESS_BYTE_COUNT	3397305
+SHUFFLE	COPY_MAP_DATA	2498262000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11183851
+SHUFFLE	COMPRESS_BYTE_COUNT	3292102
+SHUFFLE	COPY_MAP_DATA	333366000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11958528
+SHUFFLE	COMPRESS_BYTE_COUNT	3462991
+SHUFFLE	COPY_MAP_DATA	183813000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11701028
+SHUFFLE	COMPRESS_BYTE_COUNT	3415790
+SHUFFLE	COPY_MAP_DATA	406859000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12020195
+SHUFFLE	COMPRESS_BYTE_COUNT	3447841
+SHUFFLE	COPY_MAP_DATA	2433259000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12605273
+SHUFFLE	COMPRESS_BYTE_COUNT	3659251
+SHUFFLE	COPY_MAP_DATA	472011000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12764198
+SHUFFLE	COMPRESS_BYTE_COUNT	3689453
+SHUFFLE	COPY_MAP_DATA	87016161000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12472768
+SHUFFLE	COMPRESS_BYTE_COUNT	3627949
+SHUFFLE	COPY_MAP_DATA	491841000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12968000
+SHUFFLE	COMPRESS_BYTE_COUNT	3748626
+SHUFFLE	COPY_MAP_DATA	293806000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12861962
+SHUFFLE	COMPRESS_BYTE_COUNT	3709476
+SHUFFLE	COPY_MAP_DATA	184288000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12868736
+SHUFFLE	COMPRESS_BYTE_COUNT	3714227
+SHUFFLE	COPY_MAP_DATA	199324000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13363394
+SHUFFLE	COMPRESS_BYTE_COUNT	3838512
+SHUFFLE	COPY_MAP_DATA	281833000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12186630
+SHUFFLE	COMPRESS_BYTE_COUNT	3540844
+SHUFFLE	COPY_MAP_DATA	182930000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12966454
+SHUFFLE	COMPRESS_BYTE_COUNT	3751488
+SHUFFLE	COPY_MAP_DATA	230159000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13650831
+SHUFFLE	COMPRESS_BYTE_COUNT	3893127
+SHUFFLE	COPY_MAP_DATA	311243000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13677948
+SHUFFLE	COMPRESS_BYTE_COUNT	3889712
+SHUFFLE	COPY_MAP_DATA	280494000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	215361214000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	COMBINE	214731219000
+MERGE	WRITE	57255866000
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	61619850000
+SORT	READ_WRITE	61507273000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	145907176
+REDUCE	SETUP	280000
+REDUCE	SETUP_MEM	145907176
+REDUCE	CLEANUP	30000
+REDUCE	CLEANUP_MEM	214869656
+REDUCE	TOTAL_RUN	109436290000
+REDUCE	READ	20964735000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	54880205000
+REDUCE	WRITE	21788822000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	115384112
+REDUCE	VALUE_BYTE_COUNT	6900075
+REDUCE	REDUCE_MEM	214869656
+REDUCE	WRITE	36851000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	989462319862
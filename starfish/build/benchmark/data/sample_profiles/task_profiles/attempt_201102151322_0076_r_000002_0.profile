@@ -0,0 +1,149 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	8365654
+SHUFFLE	COMPRESS_BYTE_COUNT	2537461
+SHUFFLE	COPY_MAP_DATA	545297000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	6914644
+SHUFFLE	COMPRESS_BYTE_COUNT	2156178
+SHUFFLE	COPY_MAP_DATA	161733000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9184306
+SHUFFLE	COMPRESS_BYTE_COUNT	2763536
+SHUFFLE	COPY_MAP_DATA	409900000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10213054
+SHUFFLE	COMPRESS_BYTE_COUNT	3056384
+SHUFFLE	COPY_MAP_DATA	222217000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10294400
+SHUFFLE	COMPRESS_BYTE_COUNT	3043339
+SHUFFLE	COPY_MAP_DATA	298300000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10522855
+SHUFFLE	COMPRESS_BYTE_COUNT	3123307
+SHUFFLE	COPY_MAP_DATA	349576000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10651112
+SHUFFLE	COMPRESS_BYTE_COUNT	3120297
+SHUFFLE	COPY_MAP_DATA	394220000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9779695
+SHUFFLE	COMPRESS_BYTE_COUNT	2957997
+SHUFFLE	COPY_MAP_DATA	198296000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10716582
+SHUFFLE	COMPRESS_BYTE_COUNT	3152481
+SHUFFLE	COPY_MAP_DATA	209140000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9586726
+SHUFFLE	COMPRESS_BYTE_COUNT	2863679
+SHUFFLE	COPY_MAP_DATA	183154000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10253334
+SHUFFLE	COMPRESS_BYTE_COUNT	3049046
+SHUFFLE	COPY_MAP_DATA	221649000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10538030
+SHUFFLE	COMPRESS_BYTE_COUNT	3125614
+SHUFFLE	COPY_MAP_DATA	167842000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10297348
+SHUFFLE	COMPRESS_BYTE_COUNT	3081008
+SHUFFLE	COPY_MAP_DATA	220199000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10422198
+SHUFFLE	COMPRESS_BYTE_COUNT	3076347
+SHUFFLE	COPY_MAP_DATA	162409000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11647655
+SHUFFLE	COMPRESS_BYTE_COUNT	3397753
+SHUFFLE	COPY_MAP_DATA	218147000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11204930
+SHUFFLE	COMPRESS_BYTE_COUNT	3293649
+SHUFFLE	COPY_MAP_DATA	561213000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11941268
+SHUFFLE	COMPRESS_BYTE_COUNT	3456931
+SHUFFLE	COPY_MAP_DATA	1349071000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11696884
+SHUFFLE	COMPRESS_BYTE_COUNT	3426356
+SHUFFLE	COPY_MAP_DATA	218439000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12034082
+SHUFFLE	COMPRESS_BYTE_COUNT	3452018
+SHUFFLE	COPY_MAP_DATA	795494000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12547940
+SHUFFLE	COMPRESS_BYTE_COUNT	3645951
+SHUFFLE	COPY_MAP_DATA	544310000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12670856
+SHUFFLE	COMPRESS_BYTE_COUNT	3669803
+SHUFFLE	COPY_MAP_DATA	209113000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12494419
+SHUFFLE	COMPRESS_BYTE_COUNT	3641922
+SHUFFLE	COPY_MAP_DATA	321201000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12962528
+SHUFFLE	COMPRESS_BYTE_COUNT	3747119
+SHUFFLE	COPY_MAP_DATA	213765000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12834865
+SHUFFLE	COMPRESS_BYTE_COUNT	3703974
+SHUFFLE	COPY_MAP_DATA	235297000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12851972
+SHUFFLE	COMPRESS_BYTE_COUNT	3710191
+SHUFFLE	COPY_MAP_DATA	399471000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13308789
+SHUFFLE	COMPRESS_BYTE_COUNT	3831035
+SHUFFLE	COPY_MAP_DATA	200128000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12164902
+SHUFFLE	COMPRESS_BYTE_COUNT	3536772
+SHUFFLE	COPY_MAP_DATA	250817000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12993488
+SHUFFLE	COMPRESS_BYTE_COUNT	3760913
+SHUFFLE	COPY_MAP_DATA	191324000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13614084
+SHUFFLE	COMPRESS_BYTE_COUNT	3879957
+SHUFFLE	COPY_MAP_DATA	267381000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13623000
+SHUFFLE	COMPRESS_BYTE_COUNT	3873627
+SHUFFLE	COPY_MAP_DATA	633622000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	170244920064
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	COMBINE	170030579064
+MERGE	WRITE	70267939064
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	30927769756
+SORT	READ_WRITE	30832406756
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	76121464
+REDUCE	SETUP	306000
+REDUCE	SETUP_MEM	76121464
+REDUCE	CLEANUP	47000
+REDUCE	CLEANUP_MEM	147713392
+REDUCE	TOTAL_RUN	140591698511
+REDUCE	READ	30451252000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	61981838755
+REDUCE	WRITE	28229698000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	115395830
+REDUCE	VALUE_BYTE_COUNT	6900008
+REDUCE	REDUCE_MEM	147713392
+REDUCE	WRITE	455554000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	997625400093
@@ -0,0 +1,149 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	8364506
+SHUFFLE	COMPRESS_BYTE_COUNT	2536004
+SHUFFLE	COPY_MAP_DATA	1965043000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	6902146
+SHUFFLE	COMPRESS_BYTE_COUNT	2145586
+SHUFFLE	COPY_MAP_DATA	316700000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9215328
+SHUFFLE	COMPRESS_BYTE_COUNT	2770951
+SHUFFLE	COPY_MAP_DATA	1313475000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10226327
+SHUFFLE	COMPRESS_BYTE_COUNT	3054066
+SHUFFLE	COPY_MAP_DATA	230406000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10350452
+SHUFFLE	COMPRESS_BYTE_COUNT	3053609
+SHUFFLE	COPY_MAP_DATA	213866000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10545452
+SHUFFLE	COMPRESS_BYTE_COUNT	3128368
+SHUFFLE	COPY_MAP_DATA	203019000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10716474
+SHUFFLE	COMPRESS_BYTE_COUNT	3146553
+SHUFFLE	COPY_MAP_DATA	478343000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9799860
+SHUFFLE	COMPRESS_BYTE_COUNT	2958130
+SHUFFLE	COPY_MAP_DATA	904644000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10747916
+SHUFFLE	COMPRESS_BYTE_COUNT	3155617
+SHUFFLE	COPY_MAP_DATA	539039000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9630696
+SHUFFLE	COMPRESS_BYTE_COUNT	2874017
+SHUFFLE	COPY_MAP_DATA	768007000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10249154
+SHUFFLE	COMPRESS_BYTE_COUNT	3050585
+SHUFFLE	COPY_MAP_DATA	170809000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10551254
+SHUFFLE	COMPRESS_BYTE_COUNT	3122512
+SHUFFLE	COPY_MAP_DATA	221765000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10276710
+SHUFFLE	COMPRESS_BYTE_COUNT	3070699
+SHUFFLE	COPY_MAP_DATA	165806000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10472418
+SHUFFLE	COMPRESS_BYTE_COUNT	3084572
+SHUFFLE	COPY_MAP_DATA	1729848000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11670777
+SHUFFLE	COMPRESS_BYTE_COUNT	3400943
+SHUFFLE	COPY_MAP_DATA	202137000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11193799
+SHUFFLE	COMPRESS_BYTE_COUNT	3294306
+SHUFFLE	COPY_MAP_DATA	418631000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11972824
+SHUFFLE	COMPRESS_BYTE_COUNT	3458706
+SHUFFLE	COPY_MAP_DATA	192627000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11670806
+SHUFFLE	COMPRESS_BYTE_COUNT	3412442
+SHUFFLE	COPY_MAP_DATA	391056000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12049784
+SHUFFLE	COMPRESS_BYTE_COUNT	3462696
+SHUFFLE	COPY_MAP_DATA	271784000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12595770
+SHUFFLE	COMPRESS_BYTE_COUNT	3648875
+SHUFFLE	COPY_MAP_DATA	187661000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12764222
+SHUFFLE	COMPRESS_BYTE_COUNT	3687069
+SHUFFLE	COPY_MAP_DATA	117568172000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12489507
+SHUFFLE	COMPRESS_BYTE_COUNT	3628446
+SHUFFLE	COPY_MAP_DATA	185135000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12933694
+SHUFFLE	COMPRESS_BYTE_COUNT	3729940
+SHUFFLE	COPY_MAP_DATA	228896000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13043412
+SHUFFLE	COMPRESS_BYTE_COUNT	3761182
+SHUFFLE	COPY_MAP_DATA	208786000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12873356
+SHUFFLE	COMPRESS_BYTE_COUNT	3708410
+SHUFFLE	COPY_MAP_DATA	229793000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13393076
+SHUFFLE	COMPRESS_BYTE_COUNT	3841251
+SHUFFLE	COPY_MAP_DATA	274497000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12232964
+SHUFFLE	COMPRESS_BYTE_COUNT	3553254
+SHUFFLE	COPY_MAP_DATA	184686000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13045214
+SHUFFLE	COMPRESS_BYTE_COUNT	3775071
+SHUFFLE	COPY_MAP_DATA	318550000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13663376
+SHUFFLE	COMPRESS_BYTE_COUNT	3888146
+SHUFFLE	COPY_MAP_DATA	220564000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13679232
+SHUFFLE	COMPRESS_BYTE_COUNT	3877412
+SHUFFLE	COPY_MAP_DATA	393478000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	299373199000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	COMBINE	298254022000
+MERGE	WRITE	89360422000
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	22284359000
+SORT	READ_WRITE	22172188000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	128993152
+REDUCE	SETUP	307000
+REDUCE	SETUP_MEM	128993152
+REDUCE	CLEANUP	48000
+REDUCE	CLEANUP_MEM	77750640
+REDUCE	TOTAL_RUN	109755725000
+REDUCE	READ	22881092000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	51749208000
+REDUCE	WRITE	22399710000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	115361184
+REDUCE	VALUE_BYTE_COUNT	6897412
+REDUCE	REDUCE_MEM	77752688
+REDUCE	WRITE	310382000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	951088588000
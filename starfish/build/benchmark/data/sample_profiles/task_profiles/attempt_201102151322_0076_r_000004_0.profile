@@ -0,0 +1,149 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	8452644
+SHUFFLE	COMPRESS_BYTE_COUNT	2549545
+SHUFFLE	COPY_MAP_DATA	349749000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	6964298
+SHUFFLE	COMPRESS_BYTE_COUNT	2162272
+SHUFFLE	COPY_MAP_DATA	191741000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9264624
+SHUFFLE	COMPRESS_BYTE_COUNT	2779395
+SHUFFLE	COPY_MAP_DATA	1992601000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10241404
+SHUFFLE	COMPRESS_BYTE_COUNT	3054050
+SHUFFLE	COPY_MAP_DATA	311812000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10371310
+SHUFFLE	COMPRESS_BYTE_COUNT	3048788
+SHUFFLE	COPY_MAP_DATA	850441000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10568048
+SHUFFLE	COMPRESS_BYTE_COUNT	3120982
+SHUFFLE	COPY_MAP_DATA	459516000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10728784
+SHUFFLE	COMPRESS_BYTE_COUNT	3134677
+SHUFFLE	COPY_MAP_DATA	860631000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10877360
+SHUFFLE	COMPRESS_BYTE_COUNT	3181403
+SHUFFLE	COPY_MAP_DATA	180658000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9848724
+SHUFFLE	COMPRESS_BYTE_COUNT	2963635
+SHUFFLE	COPY_MAP_DATA	327440000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9682742
+SHUFFLE	COMPRESS_BYTE_COUNT	2882830
+SHUFFLE	COPY_MAP_DATA	155775000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10301226
+SHUFFLE	COMPRESS_BYTE_COUNT	3050319
+SHUFFLE	COPY_MAP_DATA	604406000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10626683
+SHUFFLE	COMPRESS_BYTE_COUNT	3134562
+SHUFFLE	COPY_MAP_DATA	255139000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10391480
+SHUFFLE	COMPRESS_BYTE_COUNT	3094809
+SHUFFLE	COPY_MAP_DATA	706784000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10532880
+SHUFFLE	COMPRESS_BYTE_COUNT	3094197
+SHUFFLE	COPY_MAP_DATA	583629000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11756224
+SHUFFLE	COMPRESS_BYTE_COUNT	3413423
+SHUFFLE	COPY_MAP_DATA	180992000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11234201
+SHUFFLE	COMPRESS_BYTE_COUNT	3285947
+SHUFFLE	COPY_MAP_DATA	603823000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12053010
+SHUFFLE	COMPRESS_BYTE_COUNT	3469395
+SHUFFLE	COPY_MAP_DATA	1834913000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11803320
+SHUFFLE	COMPRESS_BYTE_COUNT	3435936
+SHUFFLE	COPY_MAP_DATA	347017000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12149558
+SHUFFLE	COMPRESS_BYTE_COUNT	3468884
+SHUFFLE	COPY_MAP_DATA	1153622000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12637765
+SHUFFLE	COMPRESS_BYTE_COUNT	3659129
+SHUFFLE	COPY_MAP_DATA	178003000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12875552
+SHUFFLE	COMPRESS_BYTE_COUNT	3704580
+SHUFFLE	COPY_MAP_DATA	31506164000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12546160
+SHUFFLE	COMPRESS_BYTE_COUNT	3641922
+SHUFFLE	COPY_MAP_DATA	181070000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13100825
+SHUFFLE	COMPRESS_BYTE_COUNT	3764206
+SHUFFLE	COPY_MAP_DATA	200461000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12989210
+SHUFFLE	COMPRESS_BYTE_COUNT	3734277
+SHUFFLE	COPY_MAP_DATA	207183000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12942732
+SHUFFLE	COMPRESS_BYTE_COUNT	3716823
+SHUFFLE	COPY_MAP_DATA	235868000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13473018
+SHUFFLE	COMPRESS_BYTE_COUNT	3863535
+SHUFFLE	COPY_MAP_DATA	336389000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12239188
+SHUFFLE	COMPRESS_BYTE_COUNT	3539667
+SHUFFLE	COPY_MAP_DATA	792640000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13108687
+SHUFFLE	COMPRESS_BYTE_COUNT	3774883
+SHUFFLE	COPY_MAP_DATA	234847000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13733418
+SHUFFLE	COMPRESS_BYTE_COUNT	3893891
+SHUFFLE	COPY_MAP_DATA	251581000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13691320
+SHUFFLE	COMPRESS_BYTE_COUNT	3874960
+SHUFFLE	COPY_MAP_DATA	433538000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	175015157000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	COMBINE	174185454000
+MERGE	WRITE	59633875000
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	59299082000
+SORT	READ_WRITE	59178536000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	203789408
+REDUCE	SETUP	319000
+REDUCE	SETUP_MEM	203789408
+REDUCE	CLEANUP	28000
+REDUCE	CLEANUP_MEM	219120800
+REDUCE	TOTAL_RUN	113729416000
+REDUCE	READ	22215031000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	56893747000
+REDUCE	WRITE	22082979000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	115508786
+REDUCE	VALUE_BYTE_COUNT	6905222
+REDUCE	REDUCE_MEM	219122848
+REDUCE	WRITE	82222000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	993515978000
@@ -0,0 +1,149 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	6948714
+SHUFFLE	COMPRESS_BYTE_COUNT	2152919
+SHUFFLE	COPY_MAP_DATA	954930000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	8412112
+SHUFFLE	COMPRESS_BYTE_COUNT	2538333
+SHUFFLE	COPY_MAP_DATA	2643355000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9264912
+SHUFFLE	COMPRESS_BYTE_COUNT	2777433
+SHUFFLE	COPY_MAP_DATA	1676400000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10212718
+SHUFFLE	COMPRESS_BYTE_COUNT	3047344
+SHUFFLE	COPY_MAP_DATA	346533000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10351466
+SHUFFLE	COMPRESS_BYTE_COUNT	3044929
+SHUFFLE	COPY_MAP_DATA	1401523000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10554984
+SHUFFLE	COMPRESS_BYTE_COUNT	3118281
+SHUFFLE	COPY_MAP_DATA	1938576000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10719934
+SHUFFLE	COMPRESS_BYTE_COUNT	3133688
+SHUFFLE	COPY_MAP_DATA	783466000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9847028
+SHUFFLE	COMPRESS_BYTE_COUNT	2965347
+SHUFFLE	COPY_MAP_DATA	1514897000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10814062
+SHUFFLE	COMPRESS_BYTE_COUNT	3163759
+SHUFFLE	COPY_MAP_DATA	419289000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9665258
+SHUFFLE	COMPRESS_BYTE_COUNT	2876138
+SHUFFLE	COPY_MAP_DATA	203879000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10293838
+SHUFFLE	COMPRESS_BYTE_COUNT	3053627
+SHUFFLE	COPY_MAP_DATA	1533802000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10598136
+SHUFFLE	COMPRESS_BYTE_COUNT	3129950
+SHUFFLE	COPY_MAP_DATA	274761000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10323126
+SHUFFLE	COMPRESS_BYTE_COUNT	3078559
+SHUFFLE	COPY_MAP_DATA	147128000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10474964
+SHUFFLE	COMPRESS_BYTE_COUNT	3078275
+SHUFFLE	COPY_MAP_DATA	263492000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11738354
+SHUFFLE	COMPRESS_BYTE_COUNT	3411734
+SHUFFLE	COPY_MAP_DATA	175349000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11235273
+SHUFFLE	COMPRESS_BYTE_COUNT	3290913
+SHUFFLE	COPY_MAP_DATA	164158000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12034482
+SHUFFLE	COMPRESS_BYTE_COUNT	3470296
+SHUFFLE	COPY_MAP_DATA	174178000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11768064
+SHUFFLE	COMPRESS_BYTE_COUNT	3430035
+SHUFFLE	COPY_MAP_DATA	671419000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12112259
+SHUFFLE	COMPRESS_BYTE_COUNT	3471859
+SHUFFLE	COPY_MAP_DATA	782363000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12667942
+SHUFFLE	COMPRESS_BYTE_COUNT	3671169
+SHUFFLE	COPY_MAP_DATA	606931000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12781196
+SHUFFLE	COMPRESS_BYTE_COUNT	3688005
+SHUFFLE	COPY_MAP_DATA	179970771428
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12491844
+SHUFFLE	COMPRESS_BYTE_COUNT	3628822
+SHUFFLE	COPY_MAP_DATA	306791000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12971518
+SHUFFLE	COMPRESS_BYTE_COUNT	3735241
+SHUFFLE	COPY_MAP_DATA	251332000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13062968
+SHUFFLE	COMPRESS_BYTE_COUNT	3767189
+SHUFFLE	COPY_MAP_DATA	212590000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12939512
+SHUFFLE	COMPRESS_BYTE_COUNT	3724808
+SHUFFLE	COPY_MAP_DATA	195991000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13382820
+SHUFFLE	COMPRESS_BYTE_COUNT	3832457
+SHUFFLE	COPY_MAP_DATA	204939000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12235762
+SHUFFLE	COMPRESS_BYTE_COUNT	3545842
+SHUFFLE	COPY_MAP_DATA	291387000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13079533
+SHUFFLE	COMPRESS_BYTE_COUNT	3779853
+SHUFFLE	COPY_MAP_DATA	199789000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13672636
+SHUFFLE	COMPRESS_BYTE_COUNT	3888476
+SHUFFLE	COPY_MAP_DATA	253108000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13676734
+SHUFFLE	COMPRESS_BYTE_COUNT	3879515
+SHUFFLE	COPY_MAP_DATA	210451000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	393672382998
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	COMBINE	392615241998
+MERGE	WRITE	111298346571
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	18697290000
+SORT	READ_WRITE	18573422000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	59948264
+REDUCE	SETUP	9912000
+REDUCE	SETUP_MEM	59948264
+REDUCE	CLEANUP	43000
+REDUCE	CLEANUP_MEM	69719392
+REDUCE	TOTAL_RUN	124747228427
+REDUCE	READ	20868923000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	55505156427
+REDUCE	WRITE	24557410295
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	115412592
+REDUCE	VALUE_BYTE_COUNT	6901968
+REDUCE	REDUCE_MEM	69719392
+REDUCE	WRITE	26152000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	957780212004
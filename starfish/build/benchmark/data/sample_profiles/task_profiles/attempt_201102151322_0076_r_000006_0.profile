@@ -0,0 +1,149 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	6905006
+SHUFFLE	COMPRESS_BYTE_COUNT	2155896
+SHUFFLE	COPY_MAP_DATA	321479000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	8335222
+SHUFFLE	COMPRESS_BYTE_COUNT	2532307
+SHUFFLE	COPY_MAP_DATA	317364000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9149110
+SHUFFLE	COMPRESS_BYTE_COUNT	2755801
+SHUFFLE	COPY_MAP_DATA	260809000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10162894
+SHUFFLE	COMPRESS_BYTE_COUNT	3050815
+SHUFFLE	COPY_MAP_DATA	803680000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10275446
+SHUFFLE	COMPRESS_BYTE_COUNT	3039659
+SHUFFLE	COPY_MAP_DATA	172184000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10507866
+SHUFFLE	COMPRESS_BYTE_COUNT	3125097
+SHUFFLE	COPY_MAP_DATA	184271000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10628334
+SHUFFLE	COMPRESS_BYTE_COUNT	3120843
+SHUFFLE	COPY_MAP_DATA	279964000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9743934
+SHUFFLE	COMPRESS_BYTE_COUNT	2949116
+SHUFFLE	COPY_MAP_DATA	174551000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10724167
+SHUFFLE	COMPRESS_BYTE_COUNT	3152404
+SHUFFLE	COPY_MAP_DATA	173306000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9573770
+SHUFFLE	COMPRESS_BYTE_COUNT	2860674
+SHUFFLE	COPY_MAP_DATA	186942000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10183034
+SHUFFLE	COMPRESS_BYTE_COUNT	3037758
+SHUFFLE	COPY_MAP_DATA	182398000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10529392
+SHUFFLE	COMPRESS_BYTE_COUNT	3123708
+SHUFFLE	COPY_MAP_DATA	214689000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10250745
+SHUFFLE	COMPRESS_BYTE_COUNT	3076539
+SHUFFLE	COPY_MAP_DATA	169346000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10437294
+SHUFFLE	COMPRESS_BYTE_COUNT	3083224
+SHUFFLE	COPY_MAP_DATA	192110000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11654492
+SHUFFLE	COMPRESS_BYTE_COUNT	3406139
+SHUFFLE	COPY_MAP_DATA	178566000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11122393
+SHUFFLE	COMPRESS_BYTE_COUNT	3272175
+SHUFFLE	COPY_MAP_DATA	524244000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11895414
+SHUFFLE	COMPRESS_BYTE_COUNT	3445517
+SHUFFLE	COPY_MAP_DATA	676504000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11645777
+SHUFFLE	COMPRESS_BYTE_COUNT	3413901
+SHUFFLE	COPY_MAP_DATA	178606000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11970608
+SHUFFLE	COMPRESS_BYTE_COUNT	3440197
+SHUFFLE	COPY_MAP_DATA	186288000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12526122
+SHUFFLE	COMPRESS_BYTE_COUNT	3644558
+SHUFFLE	COPY_MAP_DATA	179175000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12686940
+SHUFFLE	COMPRESS_BYTE_COUNT	3676596
+SHUFFLE	COPY_MAP_DATA	316894000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12416067
+SHUFFLE	COMPRESS_BYTE_COUNT	3627522
+SHUFFLE	COPY_MAP_DATA	193933000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12915504
+SHUFFLE	COMPRESS_BYTE_COUNT	3741737
+SHUFFLE	COPY_MAP_DATA	221905000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12825342
+SHUFFLE	COMPRESS_BYTE_COUNT	3711355
+SHUFFLE	COPY_MAP_DATA	260423000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12774727
+SHUFFLE	COMPRESS_BYTE_COUNT	3690085
+SHUFFLE	COPY_MAP_DATA	203177000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13287398
+SHUFFLE	COMPRESS_BYTE_COUNT	3836004
+SHUFFLE	COPY_MAP_DATA	227095000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12161960
+SHUFFLE	COMPRESS_BYTE_COUNT	3542147
+SHUFFLE	COPY_MAP_DATA	227426000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12950898
+SHUFFLE	COMPRESS_BYTE_COUNT	3758459
+SHUFFLE	COPY_MAP_DATA	197319000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13570098
+SHUFFLE	COMPRESS_BYTE_COUNT	3883070
+SHUFFLE	COPY_MAP_DATA	220020000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13614366
+SHUFFLE	COMPRESS_BYTE_COUNT	3875018
+SHUFFLE	COPY_MAP_DATA	232530000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	163452091000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	COMBINE	163206586000
+MERGE	WRITE	67825439000
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	18097573000
+SORT	READ_WRITE	18017479000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	228619336
+REDUCE	SETUP	281000
+REDUCE	SETUP_MEM	228619336
+REDUCE	CLEANUP	47000
+REDUCE	CLEANUP_MEM	222743008
+REDUCE	TOTAL_RUN	110720130000
+REDUCE	READ	20972486000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	55469140000
+REDUCE	WRITE	28192715000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	115400616
+REDUCE	VALUE_BYTE_COUNT	6899374
+REDUCE	REDUCE_MEM	222745056
+REDUCE	WRITE	10294000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	947650467218
@@ -0,0 +1,149 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	8376198
+SHUFFLE	COMPRESS_BYTE_COUNT	2532510
+SHUFFLE	COPY_MAP_DATA	699499000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	6964526
+SHUFFLE	COMPRESS_BYTE_COUNT	2162203
+SHUFFLE	COPY_MAP_DATA	236029000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9242134
+SHUFFLE	COMPRESS_BYTE_COUNT	2772173
+SHUFFLE	COPY_MAP_DATA	459708000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10199022
+SHUFFLE	COMPRESS_BYTE_COUNT	3037313
+SHUFFLE	COPY_MAP_DATA	211103000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10367876
+SHUFFLE	COMPRESS_BYTE_COUNT	3053961
+SHUFFLE	COPY_MAP_DATA	303713000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10604594
+SHUFFLE	COMPRESS_BYTE_COUNT	3138631
+SHUFFLE	COPY_MAP_DATA	582385000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10738362
+SHUFFLE	COMPRESS_BYTE_COUNT	3143790
+SHUFFLE	COPY_MAP_DATA	307291000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10810352
+SHUFFLE	COMPRESS_BYTE_COUNT	3164610
+SHUFFLE	COPY_MAP_DATA	497787000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9824674
+SHUFFLE	COMPRESS_BYTE_COUNT	2958884
+SHUFFLE	COPY_MAP_DATA	432395000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9646694
+SHUFFLE	COMPRESS_BYTE_COUNT	2869698
+SHUFFLE	COPY_MAP_DATA	147950000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10295368
+SHUFFLE	COMPRESS_BYTE_COUNT	3052129
+SHUFFLE	COPY_MAP_DATA	253209000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10648250
+SHUFFLE	COMPRESS_BYTE_COUNT	3146609
+SHUFFLE	COPY_MAP_DATA	268423000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10348316
+SHUFFLE	COMPRESS_BYTE_COUNT	3086951
+SHUFFLE	COPY_MAP_DATA	201533000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10502220
+SHUFFLE	COMPRESS_BYTE_COUNT	3083055
+SHUFFLE	COPY_MAP_DATA	180003000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11724594
+SHUFFLE	COMPRESS_BYTE_COUNT	3417111
+SHUFFLE	COPY_MAP_DATA	839851000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11219364
+SHUFFLE	COMPRESS_BYTE_COUNT	3285979
+SHUFFLE	COPY_MAP_DATA	232928000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12028552
+SHUFFLE	COMPRESS_BYTE_COUNT	3466970
+SHUFFLE	COPY_MAP_DATA	187845000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11738711
+SHUFFLE	COMPRESS_BYTE_COUNT	3425997
+SHUFFLE	COPY_MAP_DATA	636270000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12068084
+SHUFFLE	COMPRESS_BYTE_COUNT	3448212
+SHUFFLE	COPY_MAP_DATA	225286000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12640796
+SHUFFLE	COMPRESS_BYTE_COUNT	3661927
+SHUFFLE	COPY_MAP_DATA	553695000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12818250
+SHUFFLE	COMPRESS_BYTE_COUNT	3698575
+SHUFFLE	COPY_MAP_DATA	104696062577
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12580560
+SHUFFLE	COMPRESS_BYTE_COUNT	3648293
+SHUFFLE	COPY_MAP_DATA	187428000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13050800
+SHUFFLE	COMPRESS_BYTE_COUNT	3759733
+SHUFFLE	COPY_MAP_DATA	268566729
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12945016
+SHUFFLE	COMPRESS_BYTE_COUNT	3724272
+SHUFFLE	COPY_MAP_DATA	191626000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12900014
+SHUFFLE	COMPRESS_BYTE_COUNT	3713536
+SHUFFLE	COPY_MAP_DATA	216103000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13421858
+SHUFFLE	COMPRESS_BYTE_COUNT	3841833
+SHUFFLE	COPY_MAP_DATA	197341000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12274374
+SHUFFLE	COMPRESS_BYTE_COUNT	3561083
+SHUFFLE	COPY_MAP_DATA	309741000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13082768
+SHUFFLE	COMPRESS_BYTE_COUNT	3773538
+SHUFFLE	COPY_MAP_DATA	190875000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13693992
+SHUFFLE	COMPRESS_BYTE_COUNT	3889345
+SHUFFLE	COPY_MAP_DATA	221964000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13730103
+SHUFFLE	COMPRESS_BYTE_COUNT	3885067
+SHUFFLE	COPY_MAP_DATA	238341000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	293852959006
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	COMBINE	293247817006
+MERGE	WRITE	91558332000
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	18373269000
+SORT	READ_WRITE	18261755000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	256081784
+REDUCE	SETUP	5634000
+REDUCE	SETUP_MEM	256081784
+REDUCE	CLEANUP	44000
+REDUCE	CLEANUP_MEM	198599400
+REDUCE	TOTAL_RUN	117328237499
+REDUCE	READ	18839807351
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	51878106000
+REDUCE	WRITE	23372226000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	115486102
+REDUCE	VALUE_BYTE_COUNT	6905261
+REDUCE	REDUCE_MEM	198601448
+REDUCE	WRITE	9907000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	953776408086
@@ -0,0 +1,149 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	6945154
+SHUFFLE	COMPRESS_BYTE_COUNT	2157390
+SHUFFLE	COPY_MAP_DATA	1656138000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	8423806
+SHUFFLE	COMPRESS_BYTE_COUNT	2543426
+SHUFFLE	COPY_MAP_DATA	220391000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9278316
+SHUFFLE	COMPRESS_BYTE_COUNT	2785383
+SHUFFLE	COPY_MAP_DATA	264598000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10246508
+SHUFFLE	COMPRESS_BYTE_COUNT	3052597
+SHUFFLE	COPY_MAP_DATA	1621174000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10391856
+SHUFFLE	COMPRESS_BYTE_COUNT	3051754
+SHUFFLE	COPY_MAP_DATA	470916000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10569683
+SHUFFLE	COMPRESS_BYTE_COUNT	3116325
+SHUFFLE	COPY_MAP_DATA	1352034000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10762042
+SHUFFLE	COMPRESS_BYTE_COUNT	3145442
+SHUFFLE	COPY_MAP_DATA	435380000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10841216
+SHUFFLE	COMPRESS_BYTE_COUNT	3168521
+SHUFFLE	COPY_MAP_DATA	224026000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9905225
+SHUFFLE	COMPRESS_BYTE_COUNT	2981660
+SHUFFLE	COPY_MAP_DATA	175513000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9700400
+SHUFFLE	COMPRESS_BYTE_COUNT	2885254
+SHUFFLE	COPY_MAP_DATA	166139000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10329992
+SHUFFLE	COMPRESS_BYTE_COUNT	3064472
+SHUFFLE	COPY_MAP_DATA	163218000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10617258
+SHUFFLE	COMPRESS_BYTE_COUNT	3132671
+SHUFFLE	COPY_MAP_DATA	229055000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10424120
+SHUFFLE	COMPRESS_BYTE_COUNT	3098453
+SHUFFLE	COPY_MAP_DATA	161190000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10528680
+SHUFFLE	COMPRESS_BYTE_COUNT	3098904
+SHUFFLE	COPY_MAP_DATA	225188000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11745658
+SHUFFLE	COMPRESS_BYTE_COUNT	3411311
+SHUFFLE	COPY_MAP_DATA	183802000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11218422
+SHUFFLE	COMPRESS_BYTE_COUNT	3289159
+SHUFFLE	COPY_MAP_DATA	354125000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12034317
+SHUFFLE	COMPRESS_BYTE_COUNT	3468903
+SHUFFLE	COPY_MAP_DATA	177867000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11749472
+SHUFFLE	COMPRESS_BYTE_COUNT	3427785
+SHUFFLE	COPY_MAP_DATA	651102000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12094974
+SHUFFLE	COMPRESS_BYTE_COUNT	3459848
+SHUFFLE	COPY_MAP_DATA	226411000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12613328
+SHUFFLE	COMPRESS_BYTE_COUNT	3655478
+SHUFFLE	COPY_MAP_DATA	285978000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12854680
+SHUFFLE	COMPRESS_BYTE_COUNT	3700679
+SHUFFLE	COPY_MAP_DATA	194687000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12556076
+SHUFFLE	COMPRESS_BYTE_COUNT	3650004
+SHUFFLE	COPY_MAP_DATA	336480000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13080196
+SHUFFLE	COMPRESS_BYTE_COUNT	3768311
+SHUFFLE	COPY_MAP_DATA	193149000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12981414
+SHUFFLE	COMPRESS_BYTE_COUNT	3726905
+SHUFFLE	COPY_MAP_DATA	216839000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12971708
+SHUFFLE	COMPRESS_BYTE_COUNT	3731776
+SHUFFLE	COPY_MAP_DATA	200780000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13403736
+SHUFFLE	COMPRESS_BYTE_COUNT	3833784
+SHUFFLE	COPY_MAP_DATA	275930000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12255966
+SHUFFLE	COMPRESS_BYTE_COUNT	3557091
+SHUFFLE	COPY_MAP_DATA	259684000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13079838
+SHUFFLE	COMPRESS_BYTE_COUNT	3776147
+SHUFFLE	COPY_MAP_DATA	218308000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13691020
+SHUFFLE	COMPRESS_BYTE_COUNT	3885520
+SHUFFLE	COPY_MAP_DATA	260381000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13719991
+SHUFFLE	COMPRESS_BYTE_COUNT	3890108
+SHUFFLE	COPY_MAP_DATA	421430000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	164740366000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	COMBINE	164498831000
+MERGE	WRITE	67268977000
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	17948358000
+SORT	READ_WRITE	17873128000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	94689224
+REDUCE	SETUP	323000
+REDUCE	SETUP_MEM	94689224
+REDUCE	CLEANUP	41000
+REDUCE	CLEANUP_MEM	127722584
+REDUCE	TOTAL_RUN	110437887000
+REDUCE	READ	22734669000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	51038798000
+REDUCE	WRITE	22505960000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	115428282
+REDUCE	VALUE_BYTE_COUNT	6904328
+REDUCE	REDUCE_MEM	127722584
+REDUCE	WRITE	25094000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	951192596518
@@ -0,0 +1,149 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	8386480
+SHUFFLE	COMPRESS_BYTE_COUNT	2535965
+SHUFFLE	COPY_MAP_DATA	227802000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	6917750
+SHUFFLE	COMPRESS_BYTE_COUNT	2153175
+SHUFFLE	COPY_MAP_DATA	225314000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9242336
+SHUFFLE	COMPRESS_BYTE_COUNT	2783370
+SHUFFLE	COPY_MAP_DATA	328982000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10220582
+SHUFFLE	COMPRESS_BYTE_COUNT	3061596
+SHUFFLE	COPY_MAP_DATA	251516000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10280508
+SHUFFLE	COMPRESS_BYTE_COUNT	3033482
+SHUFFLE	COPY_MAP_DATA	240799000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10510060
+SHUFFLE	COMPRESS_BYTE_COUNT	3112470
+SHUFFLE	COPY_MAP_DATA	177427000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10682340
+SHUFFLE	COMPRESS_BYTE_COUNT	3133330
+SHUFFLE	COPY_MAP_DATA	379879000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10747792
+SHUFFLE	COMPRESS_BYTE_COUNT	3160290
+SHUFFLE	COPY_MAP_DATA	213304000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9801903
+SHUFFLE	COMPRESS_BYTE_COUNT	2961124
+SHUFFLE	COPY_MAP_DATA	299999000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9595536
+SHUFFLE	COMPRESS_BYTE_COUNT	2864441
+SHUFFLE	COPY_MAP_DATA	208539000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10243606
+SHUFFLE	COMPRESS_BYTE_COUNT	3045410
+SHUFFLE	COPY_MAP_DATA	168582000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10569068
+SHUFFLE	COMPRESS_BYTE_COUNT	3129852
+SHUFFLE	COPY_MAP_DATA	181417000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10295370
+SHUFFLE	COMPRESS_BYTE_COUNT	3082008
+SHUFFLE	COPY_MAP_DATA	268621000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10430232
+SHUFFLE	COMPRESS_BYTE_COUNT	3069722
+SHUFFLE	COPY_MAP_DATA	237342000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11629235
+SHUFFLE	COMPRESS_BYTE_COUNT	3391177
+SHUFFLE	COPY_MAP_DATA	177894000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11162698
+SHUFFLE	COMPRESS_BYTE_COUNT	3277633
+SHUFFLE	COPY_MAP_DATA	298358000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11972114
+SHUFFLE	COMPRESS_BYTE_COUNT	3462640
+SHUFFLE	COPY_MAP_DATA	1335736000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11735826
+SHUFFLE	COMPRESS_BYTE_COUNT	3428042
+SHUFFLE	COPY_MAP_DATA	287322000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12054308
+SHUFFLE	COMPRESS_BYTE_COUNT	3461124
+SHUFFLE	COPY_MAP_DATA	661653000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12625897
+SHUFFLE	COMPRESS_BYTE_COUNT	3668668
+SHUFFLE	COPY_MAP_DATA	328335000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12736786
+SHUFFLE	COMPRESS_BYTE_COUNT	3683589
+SHUFFLE	COPY_MAP_DATA	450000000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12496580
+SHUFFLE	COMPRESS_BYTE_COUNT	3640193
+SHUFFLE	COPY_MAP_DATA	250836000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12968210
+SHUFFLE	COMPRESS_BYTE_COUNT	3741021
+SHUFFLE	COPY_MAP_DATA	227286000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12882616
+SHUFFLE	COMPRESS_BYTE_COUNT	3719038
+SHUFFLE	COPY_MAP_DATA	222549000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12867810
+SHUFFLE	COMPRESS_BYTE_COUNT	3707970
+SHUFFLE	COPY_MAP_DATA	224357000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13329992
+SHUFFLE	COMPRESS_BYTE_COUNT	3829357
+SHUFFLE	COPY_MAP_DATA	270310000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12190834
+SHUFFLE	COMPRESS_BYTE_COUNT	3546706
+SHUFFLE	COPY_MAP_DATA	231288000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12971800
+SHUFFLE	COMPRESS_BYTE_COUNT	3757206
+SHUFFLE	COPY_MAP_DATA	274611000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13657550
+SHUFFLE	COMPRESS_BYTE_COUNT	3894713
+SHUFFLE	COPY_MAP_DATA	234580000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13625238
+SHUFFLE	COMPRESS_BYTE_COUNT	3871824
+SHUFFLE	COPY_MAP_DATA	467054000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	174705868000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	COMBINE	174515831000
+MERGE	WRITE	70429065000
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	18476521000
+SORT	READ_WRITE	18385101000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	57284000
+REDUCE	SETUP	413000
+REDUCE	SETUP_MEM	57284000
+REDUCE	CLEANUP	41000
+REDUCE	CLEANUP_MEM	133677200
+REDUCE	TOTAL_RUN	111385049000
+REDUCE	READ	23502886000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	51734378000
+REDUCE	WRITE	22936163000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	115349064
+REDUCE	VALUE_BYTE_COUNT	6897442
+REDUCE	REDUCE_MEM	51472952
+REDUCE	WRITE	8884000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	953675319214
@@ -0,0 +1,149 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	8346762
+SHUFFLE	COMPRESS_BYTE_COUNT	2533584
+SHUFFLE	COPY_MAP_DATA	227498000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	6918949
+SHUFFLE	COMPRESS_BYTE_COUNT	2156113
+SHUFFLE	COPY_MAP_DATA	499806000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9214456
+SHUFFLE	COMPRESS_BYTE_COUNT	2769243
+SHUFFLE	COPY_MAP_DATA	267204000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10150702
+SHUFFLE	COMPRESS_BYTE_COUNT	3041354
+SHUFFLE	COPY_MAP_DATA	271978000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10282516
+SHUFFLE	COMPRESS_BYTE_COUNT	3035153
+SHUFFLE	COPY_MAP_DATA	234977000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10480332
+SHUFFLE	COMPRESS_BYTE_COUNT	3107347
+SHUFFLE	COPY_MAP_DATA	194135000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10664092
+SHUFFLE	COMPRESS_BYTE_COUNT	3131461
+SHUFFLE	COPY_MAP_DATA	586682000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10740676
+SHUFFLE	COMPRESS_BYTE_COUNT	3158722
+SHUFFLE	COPY_MAP_DATA	565416000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9782545
+SHUFFLE	COMPRESS_BYTE_COUNT	2955369
+SHUFFLE	COPY_MAP_DATA	271051000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9601970
+SHUFFLE	COMPRESS_BYTE_COUNT	2863841
+SHUFFLE	COPY_MAP_DATA	158365000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10268809
+SHUFFLE	COMPRESS_BYTE_COUNT	3061409
+SHUFFLE	COPY_MAP_DATA	298374000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10552189
+SHUFFLE	COMPRESS_BYTE_COUNT	3128141
+SHUFFLE	COPY_MAP_DATA	471380000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10305788
+SHUFFLE	COMPRESS_BYTE_COUNT	3081453
+SHUFFLE	COPY_MAP_DATA	209639000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10440198
+SHUFFLE	COMPRESS_BYTE_COUNT	3081678
+SHUFFLE	COPY_MAP_DATA	597219000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11651716
+SHUFFLE	COMPRESS_BYTE_COUNT	3398965
+SHUFFLE	COPY_MAP_DATA	955973000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11143644
+SHUFFLE	COMPRESS_BYTE_COUNT	3277057
+SHUFFLE	COPY_MAP_DATA	496792000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11950752
+SHUFFLE	COMPRESS_BYTE_COUNT	3462803
+SHUFFLE	COPY_MAP_DATA	196140000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11656188
+SHUFFLE	COMPRESS_BYTE_COUNT	3413885
+SHUFFLE	COPY_MAP_DATA	236265000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12044078
+SHUFFLE	COMPRESS_BYTE_COUNT	3455129
+SHUFFLE	COPY_MAP_DATA	1783492000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12526514
+SHUFFLE	COMPRESS_BYTE_COUNT	3646163
+SHUFFLE	COPY_MAP_DATA	274834000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12692386
+SHUFFLE	COMPRESS_BYTE_COUNT	3672539
+SHUFFLE	COPY_MAP_DATA	126368959283
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12452022
+SHUFFLE	COMPRESS_BYTE_COUNT	3624313
+SHUFFLE	COPY_MAP_DATA	874896000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12913314
+SHUFFLE	COMPRESS_BYTE_COUNT	3731097
+SHUFFLE	COPY_MAP_DATA	207669000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12948662
+SHUFFLE	COMPRESS_BYTE_COUNT	3748466
+SHUFFLE	COPY_MAP_DATA	200313000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12854640
+SHUFFLE	COMPRESS_BYTE_COUNT	3714117
+SHUFFLE	COPY_MAP_DATA	217839000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13341732
+SHUFFLE	COMPRESS_BYTE_COUNT	3832480
+SHUFFLE	COPY_MAP_DATA	264007000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12190486
+SHUFFLE	COMPRESS_BYTE_COUNT	3542427
+SHUFFLE	COPY_MAP_DATA	294344000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12987832
+SHUFFLE	COMPRESS_BYTE_COUNT	3766185
+SHUFFLE	COPY_MAP_DATA	285140000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13578488
+SHUFFLE	COMPRESS_BYTE_COUNT	3879404
+SHUFFLE	COPY_MAP_DATA	209460000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13588740
+SHUFFLE	COMPRESS_BYTE_COUNT	3859142
+SHUFFLE	COPY_MAP_DATA	238000000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	337113725153
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	COMBINE	336402600153
+MERGE	WRITE	118068880793
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	18424570834
+SORT	READ_WRITE	18335501834
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	94066744
+REDUCE	SETUP	330000
+REDUCE	SETUP_MEM	94066744
+REDUCE	CLEANUP	42000
+REDUCE	CLEANUP_MEM	79455992
+REDUCE	TOTAL_RUN	137946782435
+REDUCE	READ	33233218000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	56708429435
+REDUCE	WRITE	25507023641
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	115321052
+REDUCE	VALUE_BYTE_COUNT	6894541
+REDUCE	REDUCE_MEM	79458040
+REDUCE	WRITE	18992000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	972915995417
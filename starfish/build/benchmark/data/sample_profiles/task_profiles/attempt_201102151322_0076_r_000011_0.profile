@@ -0,0 +1,149 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	6875884
+SHUFFLE	COMPRESS_BYTE_COUNT	2140220
+SHUFFLE	COPY_MAP_DATA	489100000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	8386602
+SHUFFLE	COMPRESS_BYTE_COUNT	2539432
+SHUFFLE	COPY_MAP_DATA	376890000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9209236
+SHUFFLE	COMPRESS_BYTE_COUNT	2778551
+SHUFFLE	COPY_MAP_DATA	505193000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10136408
+SHUFFLE	COMPRESS_BYTE_COUNT	3034183
+SHUFFLE	COPY_MAP_DATA	227784000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10317212
+SHUFFLE	COMPRESS_BYTE_COUNT	3043084
+SHUFFLE	COPY_MAP_DATA	526353000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10503372
+SHUFFLE	COMPRESS_BYTE_COUNT	3115253
+SHUFFLE	COPY_MAP_DATA	897382000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10670813
+SHUFFLE	COMPRESS_BYTE_COUNT	3135800
+SHUFFLE	COPY_MAP_DATA	222536000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9793689
+SHUFFLE	COMPRESS_BYTE_COUNT	2958266
+SHUFFLE	COPY_MAP_DATA	139155000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10699334
+SHUFFLE	COMPRESS_BYTE_COUNT	3139722
+SHUFFLE	COPY_MAP_DATA	171561000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9584932
+SHUFFLE	COMPRESS_BYTE_COUNT	2860045
+SHUFFLE	COPY_MAP_DATA	227719000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10609567
+SHUFFLE	COMPRESS_BYTE_COUNT	3147762
+SHUFFLE	COPY_MAP_DATA	264247000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10255852
+SHUFFLE	COMPRESS_BYTE_COUNT	3054163
+SHUFFLE	COPY_MAP_DATA	898123000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10313844
+SHUFFLE	COMPRESS_BYTE_COUNT	3091027
+SHUFFLE	COPY_MAP_DATA	213986000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10441178
+SHUFFLE	COMPRESS_BYTE_COUNT	3071533
+SHUFFLE	COPY_MAP_DATA	202405000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11659446
+SHUFFLE	COMPRESS_BYTE_COUNT	3396702
+SHUFFLE	COPY_MAP_DATA	1251901000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11197806
+SHUFFLE	COMPRESS_BYTE_COUNT	3292671
+SHUFFLE	COPY_MAP_DATA	164559000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11950914
+SHUFFLE	COMPRESS_BYTE_COUNT	3456116
+SHUFFLE	COPY_MAP_DATA	183020000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11642924
+SHUFFLE	COMPRESS_BYTE_COUNT	3408736
+SHUFFLE	COPY_MAP_DATA	563839000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12052546
+SHUFFLE	COMPRESS_BYTE_COUNT	3458693
+SHUFFLE	COPY_MAP_DATA	324008000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12556687
+SHUFFLE	COMPRESS_BYTE_COUNT	3649514
+SHUFFLE	COPY_MAP_DATA	174553000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12713272
+SHUFFLE	COMPRESS_BYTE_COUNT	3681799
+SHUFFLE	COPY_MAP_DATA	278936000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12435108
+SHUFFLE	COMPRESS_BYTE_COUNT	3629109
+SHUFFLE	COPY_MAP_DATA	205104000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12962154
+SHUFFLE	COMPRESS_BYTE_COUNT	3744827
+SHUFFLE	COPY_MAP_DATA	210369000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12879304
+SHUFFLE	COMPRESS_BYTE_COUNT	3717285
+SHUFFLE	COPY_MAP_DATA	189267000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12844428
+SHUFFLE	COMPRESS_BYTE_COUNT	3708138
+SHUFFLE	COPY_MAP_DATA	275613000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13365594
+SHUFFLE	COMPRESS_BYTE_COUNT	3843939
+SHUFFLE	COPY_MAP_DATA	209309000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12222313
+SHUFFLE	COMPRESS_BYTE_COUNT	3554297
+SHUFFLE	COPY_MAP_DATA	240773000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13052246
+SHUFFLE	COMPRESS_BYTE_COUNT	3781145
+SHUFFLE	COPY_MAP_DATA	298291000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13645691
+SHUFFLE	COMPRESS_BYTE_COUNT	3888277
+SHUFFLE	COPY_MAP_DATA	201459000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13685782
+SHUFFLE	COMPRESS_BYTE_COUNT	3889413
+SHUFFLE	COPY_MAP_DATA	247569000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	179126410418
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	COMBINE	178767492418
+MERGE	WRITE	69993146101
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	18270351000
+SORT	READ_WRITE	18193218000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	115709568
+REDUCE	SETUP	309000
+REDUCE	SETUP_MEM	115709568
+REDUCE	CLEANUP	28000
+REDUCE	CLEANUP_MEM	122314296
+REDUCE	TOTAL_RUN	123973112330
+REDUCE	READ	21256747229
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	54767290101
+REDUCE	WRITE	23910359000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	115430574
+REDUCE	VALUE_BYTE_COUNT	6899729
+REDUCE	REDUCE_MEM	122316344
+REDUCE	WRITE	9656000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	960216067060
@@ -0,0 +1,149 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	8348466
+SHUFFLE	COMPRESS_BYTE_COUNT	2537349
+SHUFFLE	COPY_MAP_DATA	721870000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	6884849
+SHUFFLE	COMPRESS_BYTE_COUNT	2147900
+SHUFFLE	COPY_MAP_DATA	320057000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9194296
+SHUFFLE	COMPRESS_BYTE_COUNT	2771891
+SHUFFLE	COPY_MAP_DATA	308252000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10173818
+SHUFFLE	COMPRESS_BYTE_COUNT	3045286
+SHUFFLE	COPY_MAP_DATA	249068000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10280696
+SHUFFLE	COMPRESS_BYTE_COUNT	3038259
+SHUFFLE	COPY_MAP_DATA	497486000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10488828
+SHUFFLE	COMPRESS_BYTE_COUNT	3114881
+SHUFFLE	COPY_MAP_DATA	272765000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10619374
+SHUFFLE	COMPRESS_BYTE_COUNT	3119134
+SHUFFLE	COPY_MAP_DATA	236143000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10731910
+SHUFFLE	COMPRESS_BYTE_COUNT	3153521
+SHUFFLE	COPY_MAP_DATA	292551000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9808260
+SHUFFLE	COMPRESS_BYTE_COUNT	2970454
+SHUFFLE	COPY_MAP_DATA	173164000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9643265
+SHUFFLE	COMPRESS_BYTE_COUNT	2877839
+SHUFFLE	COPY_MAP_DATA	172410000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10225426
+SHUFFLE	COMPRESS_BYTE_COUNT	3050833
+SHUFFLE	COPY_MAP_DATA	1168887000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10539160
+SHUFFLE	COMPRESS_BYTE_COUNT	3127326
+SHUFFLE	COPY_MAP_DATA	155280000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10303148
+SHUFFLE	COMPRESS_BYTE_COUNT	3085093
+SHUFFLE	COPY_MAP_DATA	204379000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10414330
+SHUFFLE	COMPRESS_BYTE_COUNT	3066509
+SHUFFLE	COPY_MAP_DATA	201885000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11655079
+SHUFFLE	COMPRESS_BYTE_COUNT	3406247
+SHUFFLE	COPY_MAP_DATA	1682643000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11176106
+SHUFFLE	COMPRESS_BYTE_COUNT	3289677
+SHUFFLE	COPY_MAP_DATA	166426000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11973008
+SHUFFLE	COMPRESS_BYTE_COUNT	3461418
+SHUFFLE	COPY_MAP_DATA	1160894000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11640949
+SHUFFLE	COMPRESS_BYTE_COUNT	3410178
+SHUFFLE	COPY_MAP_DATA	161740000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12020001
+SHUFFLE	COMPRESS_BYTE_COUNT	3459781
+SHUFFLE	COPY_MAP_DATA	274427000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12541806
+SHUFFLE	COMPRESS_BYTE_COUNT	3651107
+SHUFFLE	COPY_MAP_DATA	207661000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12722736
+SHUFFLE	COMPRESS_BYTE_COUNT	3675050
+SHUFFLE	COPY_MAP_DATA	194134000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12466470
+SHUFFLE	COMPRESS_BYTE_COUNT	3640300
+SHUFFLE	COPY_MAP_DATA	301797000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12966588
+SHUFFLE	COMPRESS_BYTE_COUNT	3751721
+SHUFFLE	COPY_MAP_DATA	191432000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12855258
+SHUFFLE	COMPRESS_BYTE_COUNT	3711985
+SHUFFLE	COPY_MAP_DATA	220734000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12827704
+SHUFFLE	COMPRESS_BYTE_COUNT	3698176
+SHUFFLE	COPY_MAP_DATA	193571000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13352904
+SHUFFLE	COMPRESS_BYTE_COUNT	3840971
+SHUFFLE	COPY_MAP_DATA	210395000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12184470
+SHUFFLE	COMPRESS_BYTE_COUNT	3545177
+SHUFFLE	COPY_MAP_DATA	179469000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12990053
+SHUFFLE	COMPRESS_BYTE_COUNT	3765759
+SHUFFLE	COPY_MAP_DATA	254131000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13655684
+SHUFFLE	COMPRESS_BYTE_COUNT	3897719
+SHUFFLE	COPY_MAP_DATA	204365000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13613300
+SHUFFLE	COMPRESS_BYTE_COUNT	3866145
+SHUFFLE	COPY_MAP_DATA	351085000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	157617089000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	COMBINE	156611967000
+MERGE	WRITE	66285436000
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	21076062000
+SORT	READ_WRITE	20964151000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	110484352
+REDUCE	SETUP	416000
+REDUCE	SETUP_MEM	110484352
+REDUCE	CLEANUP	33000
+REDUCE	CLEANUP_MEM	134315712
+REDUCE	TOTAL_RUN	101306807000
+REDUCE	READ	20728895000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	47537303000
+REDUCE	WRITE	21523290000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	115367256
+REDUCE	VALUE_BYTE_COUNT	6899019
+REDUCE	REDUCE_MEM	134315712
+REDUCE	WRITE	47217000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	940355673000
@@ -0,0 +1,149 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	6947554
+SHUFFLE	COMPRESS_BYTE_COUNT	2157274
+SHUFFLE	COPY_MAP_DATA	954644000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	8372812
+SHUFFLE	COMPRESS_BYTE_COUNT	2532717
+SHUFFLE	COPY_MAP_DATA	205173000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9251430
+SHUFFLE	COMPRESS_BYTE_COUNT	2778899
+SHUFFLE	COPY_MAP_DATA	669043000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10172314
+SHUFFLE	COMPRESS_BYTE_COUNT	3039352
+SHUFFLE	COPY_MAP_DATA	282405000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10345272
+SHUFFLE	COMPRESS_BYTE_COUNT	3055680
+SHUFFLE	COPY_MAP_DATA	1349372000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10553635
+SHUFFLE	COMPRESS_BYTE_COUNT	3126673
+SHUFFLE	COPY_MAP_DATA	181274000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10712182
+SHUFFLE	COMPRESS_BYTE_COUNT	3139883
+SHUFFLE	COPY_MAP_DATA	229526000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9837465
+SHUFFLE	COMPRESS_BYTE_COUNT	2964866
+SHUFFLE	COPY_MAP_DATA	989498000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10755692
+SHUFFLE	COMPRESS_BYTE_COUNT	3159920
+SHUFFLE	COPY_MAP_DATA	186485000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9617324
+SHUFFLE	COMPRESS_BYTE_COUNT	2863373
+SHUFFLE	COPY_MAP_DATA	162494000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10269980
+SHUFFLE	COMPRESS_BYTE_COUNT	3046975
+SHUFFLE	COPY_MAP_DATA	203366000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10588206
+SHUFFLE	COMPRESS_BYTE_COUNT	3133952
+SHUFFLE	COPY_MAP_DATA	221565000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10342964
+SHUFFLE	COMPRESS_BYTE_COUNT	3080665
+SHUFFLE	COPY_MAP_DATA	434853000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10489180
+SHUFFLE	COMPRESS_BYTE_COUNT	3085109
+SHUFFLE	COPY_MAP_DATA	161736000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11688380
+SHUFFLE	COMPRESS_BYTE_COUNT	3398334
+SHUFFLE	COPY_MAP_DATA	946619000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11231974
+SHUFFLE	COMPRESS_BYTE_COUNT	3289778
+SHUFFLE	COPY_MAP_DATA	243459000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11970966
+SHUFFLE	COMPRESS_BYTE_COUNT	3450170
+SHUFFLE	COPY_MAP_DATA	473687000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11655590
+SHUFFLE	COMPRESS_BYTE_COUNT	3400585
+SHUFFLE	COPY_MAP_DATA	189359000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12060418
+SHUFFLE	COMPRESS_BYTE_COUNT	3451825
+SHUFFLE	COPY_MAP_DATA	217690000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12619048
+SHUFFLE	COMPRESS_BYTE_COUNT	3652167
+SHUFFLE	COPY_MAP_DATA	193318000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12735650
+SHUFFLE	COMPRESS_BYTE_COUNT	3676278
+SHUFFLE	COPY_MAP_DATA	217577000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12483860
+SHUFFLE	COMPRESS_BYTE_COUNT	3626198
+SHUFFLE	COPY_MAP_DATA	487837000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12972401
+SHUFFLE	COMPRESS_BYTE_COUNT	3737730
+SHUFFLE	COPY_MAP_DATA	219614000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12912722
+SHUFFLE	COMPRESS_BYTE_COUNT	3721818
+SHUFFLE	COPY_MAP_DATA	197364000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12888750
+SHUFFLE	COMPRESS_BYTE_COUNT	3704140
+SHUFFLE	COPY_MAP_DATA	269584000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13366869
+SHUFFLE	COMPRESS_BYTE_COUNT	3834176
+SHUFFLE	COPY_MAP_DATA	227487000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12219770
+SHUFFLE	COMPRESS_BYTE_COUNT	3546208
+SHUFFLE	COPY_MAP_DATA	195779000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13044606
+SHUFFLE	COMPRESS_BYTE_COUNT	3765987
+SHUFFLE	COPY_MAP_DATA	188200000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13659662
+SHUFFLE	COMPRESS_BYTE_COUNT	3888110
+SHUFFLE	COPY_MAP_DATA	207216000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13648216
+SHUFFLE	COMPRESS_BYTE_COUNT	3873044
+SHUFFLE	COPY_MAP_DATA	230594000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	159174828000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	COMBINE	158765991000
+MERGE	WRITE	64652635000
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	17361230000
+SORT	READ_WRITE	17258779000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	197280488
+REDUCE	SETUP	4015000
+REDUCE	SETUP_MEM	197280488
+REDUCE	CLEANUP	63000
+REDUCE	CLEANUP_MEM	193770344
+REDUCE	TOTAL_RUN	111626288000
+REDUCE	READ	21915108000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	53986712000
+REDUCE	WRITE	26299871000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	115395372
+REDUCE	VALUE_BYTE_COUNT	6898831
+REDUCE	REDUCE_MEM	193770344
+REDUCE	WRITE	680715000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	947171330642
@@ -0,0 +1,149 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	8349094
+SHUFFLE	COMPRESS_BYTE_COUNT	2533494
+SHUFFLE	COPY_MAP_DATA	592898000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	6909250
+SHUFFLE	COMPRESS_BYTE_COUNT	2151135
+SHUFFLE	COPY_MAP_DATA	234010000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9205066
+SHUFFLE	COMPRESS_BYTE_COUNT	2771121
+SHUFFLE	COPY_MAP_DATA	1126184000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10187888
+SHUFFLE	COMPRESS_BYTE_COUNT	3047077
+SHUFFLE	COPY_MAP_DATA	3030613000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10316870
+SHUFFLE	COMPRESS_BYTE_COUNT	3044456
+SHUFFLE	COPY_MAP_DATA	263169000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10461232
+SHUFFLE	COMPRESS_BYTE_COUNT	3102048
+SHUFFLE	COPY_MAP_DATA	168902000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10670244
+SHUFFLE	COMPRESS_BYTE_COUNT	3132868
+SHUFFLE	COPY_MAP_DATA	507925000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10670898
+SHUFFLE	COMPRESS_BYTE_COUNT	3138651
+SHUFFLE	COPY_MAP_DATA	175638000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9786886
+SHUFFLE	COMPRESS_BYTE_COUNT	2958916
+SHUFFLE	COPY_MAP_DATA	172379000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9575168
+SHUFFLE	COMPRESS_BYTE_COUNT	2857518
+SHUFFLE	COPY_MAP_DATA	142085000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10234113
+SHUFFLE	COMPRESS_BYTE_COUNT	3046518
+SHUFFLE	COPY_MAP_DATA	192297000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10544926
+SHUFFLE	COMPRESS_BYTE_COUNT	3130570
+SHUFFLE	COPY_MAP_DATA	165174000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10305056
+SHUFFLE	COMPRESS_BYTE_COUNT	3082966
+SHUFFLE	COPY_MAP_DATA	155287000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10467054
+SHUFFLE	COMPRESS_BYTE_COUNT	3084910
+SHUFFLE	COPY_MAP_DATA	236470000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11664336
+SHUFFLE	COMPRESS_BYTE_COUNT	3403135
+SHUFFLE	COPY_MAP_DATA	178228000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11161128
+SHUFFLE	COMPRESS_BYTE_COUNT	3274681
+SHUFFLE	COPY_MAP_DATA	188163000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11972858
+SHUFFLE	COMPRESS_BYTE_COUNT	3463039
+SHUFFLE	COPY_MAP_DATA	1427872000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11685100
+SHUFFLE	COMPRESS_BYTE_COUNT	3417077
+SHUFFLE	COPY_MAP_DATA	197420000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12047262
+SHUFFLE	COMPRESS_BYTE_COUNT	3459603
+SHUFFLE	COPY_MAP_DATA	794269000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12526940
+SHUFFLE	COMPRESS_BYTE_COUNT	3640558
+SHUFFLE	COPY_MAP_DATA	1279055000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12722066
+SHUFFLE	COMPRESS_BYTE_COUNT	3678703
+SHUFFLE	COPY_MAP_DATA	315039000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12481359
+SHUFFLE	COMPRESS_BYTE_COUNT	3637698
+SHUFFLE	COPY_MAP_DATA	503032000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12972780
+SHUFFLE	COMPRESS_BYTE_COUNT	3748704
+SHUFFLE	COPY_MAP_DATA	226531000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12921822
+SHUFFLE	COMPRESS_BYTE_COUNT	3730841
+SHUFFLE	COPY_MAP_DATA	223765000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12856234
+SHUFFLE	COMPRESS_BYTE_COUNT	3713882
+SHUFFLE	COPY_MAP_DATA	203170000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13340793
+SHUFFLE	COMPRESS_BYTE_COUNT	3835464
+SHUFFLE	COPY_MAP_DATA	263334000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12160916
+SHUFFLE	COMPRESS_BYTE_COUNT	3531037
+SHUFFLE	COPY_MAP_DATA	199060000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13014446
+SHUFFLE	COMPRESS_BYTE_COUNT	3767122
+SHUFFLE	COPY_MAP_DATA	206744000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13614325
+SHUFFLE	COMPRESS_BYTE_COUNT	3881270
+SHUFFLE	COPY_MAP_DATA	241233000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13650924
+SHUFFLE	COMPRESS_BYTE_COUNT	3884454
+SHUFFLE	COPY_MAP_DATA	217773000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	173024209000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	COMBINE	172071523000
+MERGE	WRITE	71284995000
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	22942186000
+SORT	READ_WRITE	22865285000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	61955072
+REDUCE	SETUP	294000
+REDUCE	SETUP_MEM	61955072
+REDUCE	CLEANUP	37000
+REDUCE	CLEANUP_MEM	90594176
+REDUCE	TOTAL_RUN	116646236000
+REDUCE	READ	23337417000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	55399331000
+REDUCE	WRITE	24690997000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	115465844
+REDUCE	VALUE_BYTE_COUNT	6902204
+REDUCE	REDUCE_MEM	90596224
+REDUCE	WRITE	52768000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	957096934720
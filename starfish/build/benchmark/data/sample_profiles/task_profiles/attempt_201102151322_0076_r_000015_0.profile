@@ -0,0 +1,149 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	6940128
+SHUFFLE	COMPRESS_BYTE_COUNT	2162220
+SHUFFLE	COPY_MAP_DATA	199262000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	8335214
+SHUFFLE	COMPRESS_BYTE_COUNT	2530549
+SHUFFLE	COPY_MAP_DATA	165887000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9199832
+SHUFFLE	COMPRESS_BYTE_COUNT	2768233
+SHUFFLE	COPY_MAP_DATA	272444000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10175842
+SHUFFLE	COMPRESS_BYTE_COUNT	3047129
+SHUFFLE	COPY_MAP_DATA	225662000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10312109
+SHUFFLE	COMPRESS_BYTE_COUNT	3042166
+SHUFFLE	COPY_MAP_DATA	177299000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10540880
+SHUFFLE	COMPRESS_BYTE_COUNT	3126699
+SHUFFLE	COPY_MAP_DATA	190151000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10666948
+SHUFFLE	COMPRESS_BYTE_COUNT	3133967
+SHUFFLE	COPY_MAP_DATA	273899000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10755842
+SHUFFLE	COMPRESS_BYTE_COUNT	3157255
+SHUFFLE	COPY_MAP_DATA	187683000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9777914
+SHUFFLE	COMPRESS_BYTE_COUNT	2957157
+SHUFFLE	COPY_MAP_DATA	175735000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9587411
+SHUFFLE	COMPRESS_BYTE_COUNT	2863256
+SHUFFLE	COPY_MAP_DATA	146158000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10585557
+SHUFFLE	COMPRESS_BYTE_COUNT	3138311
+SHUFFLE	COPY_MAP_DATA	177221000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10261866
+SHUFFLE	COMPRESS_BYTE_COUNT	3049413
+SHUFFLE	COPY_MAP_DATA	195942000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10317428
+SHUFFLE	COMPRESS_BYTE_COUNT	3086092
+SHUFFLE	COPY_MAP_DATA	165123000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10428695
+SHUFFLE	COMPRESS_BYTE_COUNT	3075486
+SHUFFLE	COPY_MAP_DATA	372718000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11640152
+SHUFFLE	COMPRESS_BYTE_COUNT	3395508
+SHUFFLE	COPY_MAP_DATA	186741000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11159076
+SHUFFLE	COMPRESS_BYTE_COUNT	3288164
+SHUFFLE	COPY_MAP_DATA	179370000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12024472
+SHUFFLE	COMPRESS_BYTE_COUNT	3478602
+SHUFFLE	COPY_MAP_DATA	2849886000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11669414
+SHUFFLE	COMPRESS_BYTE_COUNT	3413148
+SHUFFLE	COPY_MAP_DATA	233851000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12019632
+SHUFFLE	COMPRESS_BYTE_COUNT	3453304
+SHUFFLE	COPY_MAP_DATA	842714000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12557022
+SHUFFLE	COMPRESS_BYTE_COUNT	3645493
+SHUFFLE	COPY_MAP_DATA	217518000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12697520
+SHUFFLE	COMPRESS_BYTE_COUNT	3674971
+SHUFFLE	COPY_MAP_DATA	853034000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12479040
+SHUFFLE	COMPRESS_BYTE_COUNT	3642104
+SHUFFLE	COPY_MAP_DATA	457473000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12983644
+SHUFFLE	COMPRESS_BYTE_COUNT	3764047
+SHUFFLE	COPY_MAP_DATA	197152000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12857146
+SHUFFLE	COMPRESS_BYTE_COUNT	3707606
+SHUFFLE	COPY_MAP_DATA	584790000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12847981
+SHUFFLE	COMPRESS_BYTE_COUNT	3709203
+SHUFFLE	COPY_MAP_DATA	420317000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13318989
+SHUFFLE	COMPRESS_BYTE_COUNT	3823575
+SHUFFLE	COPY_MAP_DATA	201910000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12185032
+SHUFFLE	COMPRESS_BYTE_COUNT	3544515
+SHUFFLE	COPY_MAP_DATA	184451000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12969382
+SHUFFLE	COMPRESS_BYTE_COUNT	3753606
+SHUFFLE	COPY_MAP_DATA	189801000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13665846
+SHUFFLE	COMPRESS_BYTE_COUNT	3900731
+SHUFFLE	COPY_MAP_DATA	197584000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13591818
+SHUFFLE	COMPRESS_BYTE_COUNT	3864402
+SHUFFLE	COPY_MAP_DATA	1289723000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	165425094000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	COMBINE	165213117000
+MERGE	WRITE	66224143000
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	17118246000
+SORT	READ_WRITE	17034782000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	82156704
+REDUCE	SETUP	337000
+REDUCE	SETUP_MEM	82156704
+REDUCE	CLEANUP	39000
+REDUCE	CLEANUP_MEM	91677520
+REDUCE	TOTAL_RUN	102622268000
+REDUCE	READ	20840585000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	48932340000
+REDUCE	WRITE	22789488000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	115453840
+REDUCE	VALUE_BYTE_COUNT	6902258
+REDUCE	REDUCE_MEM	91679568
+REDUCE	WRITE	2418512000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	944143999000
@@ -0,0 +1,149 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	8370234
+SHUFFLE	COMPRESS_BYTE_COUNT	2540357
+SHUFFLE	COPY_MAP_DATA	1411681000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	6934418
+SHUFFLE	COMPRESS_BYTE_COUNT	2161316
+SHUFFLE	COPY_MAP_DATA	158706000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9209641
+SHUFFLE	COMPRESS_BYTE_COUNT	2770712
+SHUFFLE	COPY_MAP_DATA	1158851000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10206672
+SHUFFLE	COMPRESS_BYTE_COUNT	3059698
+SHUFFLE	COPY_MAP_DATA	220482000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10273076
+SHUFFLE	COMPRESS_BYTE_COUNT	3035671
+SHUFFLE	COPY_MAP_DATA	180994000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10515634
+SHUFFLE	COMPRESS_BYTE_COUNT	3119814
+SHUFFLE	COPY_MAP_DATA	785838000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10680456
+SHUFFLE	COMPRESS_BYTE_COUNT	3126898
+SHUFFLE	COPY_MAP_DATA	1049719000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9774914
+SHUFFLE	COMPRESS_BYTE_COUNT	2952416
+SHUFFLE	COPY_MAP_DATA	158574000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10703108
+SHUFFLE	COMPRESS_BYTE_COUNT	3141172
+SHUFFLE	COPY_MAP_DATA	1886057000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9627545
+SHUFFLE	COMPRESS_BYTE_COUNT	2880286
+SHUFFLE	COPY_MAP_DATA	159917000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10257888
+SHUFFLE	COMPRESS_BYTE_COUNT	3052673
+SHUFFLE	COPY_MAP_DATA	1660437000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10584227
+SHUFFLE	COMPRESS_BYTE_COUNT	3136685
+SHUFFLE	COPY_MAP_DATA	1267930000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10310546
+SHUFFLE	COMPRESS_BYTE_COUNT	3084725
+SHUFFLE	COPY_MAP_DATA	192306000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10434664
+SHUFFLE	COMPRESS_BYTE_COUNT	3079124
+SHUFFLE	COPY_MAP_DATA	1214542000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11639824
+SHUFFLE	COMPRESS_BYTE_COUNT	3396174
+SHUFFLE	COPY_MAP_DATA	311571000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11161508
+SHUFFLE	COMPRESS_BYTE_COUNT	3283327
+SHUFFLE	COPY_MAP_DATA	2659726000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11967642
+SHUFFLE	COMPRESS_BYTE_COUNT	3460467
+SHUFFLE	COPY_MAP_DATA	177354000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11695680
+SHUFFLE	COMPRESS_BYTE_COUNT	3424415
+SHUFFLE	COPY_MAP_DATA	186264000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12015778
+SHUFFLE	COMPRESS_BYTE_COUNT	3450670
+SHUFFLE	COPY_MAP_DATA	1919795000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12551343
+SHUFFLE	COMPRESS_BYTE_COUNT	3649831
+SHUFFLE	COPY_MAP_DATA	1393241000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12736490
+SHUFFLE	COMPRESS_BYTE_COUNT	3684249
+SHUFFLE	COPY_MAP_DATA	409442000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12458485
+SHUFFLE	COMPRESS_BYTE_COUNT	3631139
+SHUFFLE	COPY_MAP_DATA	3005004000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12975384
+SHUFFLE	COMPRESS_BYTE_COUNT	3753616
+SHUFFLE	COPY_MAP_DATA	685874000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12900026
+SHUFFLE	COMPRESS_BYTE_COUNT	3723719
+SHUFFLE	COPY_MAP_DATA	205195000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12857152
+SHUFFLE	COMPRESS_BYTE_COUNT	3710065
+SHUFFLE	COPY_MAP_DATA	307370000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13366317
+SHUFFLE	COMPRESS_BYTE_COUNT	3844470
+SHUFFLE	COPY_MAP_DATA	373786000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12188494
+SHUFFLE	COMPRESS_BYTE_COUNT	3542932
+SHUFFLE	COPY_MAP_DATA	175954000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13012856
+SHUFFLE	COMPRESS_BYTE_COUNT	3763819
+SHUFFLE	COPY_MAP_DATA	211023000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13649794
+SHUFFLE	COMPRESS_BYTE_COUNT	3892848
+SHUFFLE	COPY_MAP_DATA	295132000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13637504
+SHUFFLE	COMPRESS_BYTE_COUNT	3878961
+SHUFFLE	COPY_MAP_DATA	1140061000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	171668455000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	COMBINE	171370185000
+MERGE	WRITE	71241570000
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	31138114000
+SORT	READ_WRITE	31018572000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	133040352
+REDUCE	SETUP	7323000
+REDUCE	SETUP_MEM	133040352
+REDUCE	CLEANUP	30000
+REDUCE	CLEANUP_MEM	140224504
+REDUCE	TOTAL_RUN	117789332000
+REDUCE	READ	22851947000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	57133867000
+REDUCE	WRITE	24500032000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	115453110
+REDUCE	VALUE_BYTE_COUNT	6902457
+REDUCE	REDUCE_MEM	140226552
+REDUCE	WRITE	8522000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	966589580862
@@ -0,0 +1,149 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	8366498
+SHUFFLE	COMPRESS_BYTE_COUNT	2539852
+SHUFFLE	COPY_MAP_DATA	301623000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	6916506
+SHUFFLE	COMPRESS_BYTE_COUNT	2153678
+SHUFFLE	COPY_MAP_DATA	160743000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9160244
+SHUFFLE	COMPRESS_BYTE_COUNT	2758707
+SHUFFLE	COPY_MAP_DATA	313854000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10168688
+SHUFFLE	COMPRESS_BYTE_COUNT	3047139
+SHUFFLE	COPY_MAP_DATA	221817000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10279026
+SHUFFLE	COMPRESS_BYTE_COUNT	3035281
+SHUFFLE	COPY_MAP_DATA	239310000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10534266
+SHUFFLE	COMPRESS_BYTE_COUNT	3132876
+SHUFFLE	COPY_MAP_DATA	181823000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10659450
+SHUFFLE	COMPRESS_BYTE_COUNT	3129036
+SHUFFLE	COPY_MAP_DATA	311665000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10721596
+SHUFFLE	COMPRESS_BYTE_COUNT	3150116
+SHUFFLE	COPY_MAP_DATA	215725000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9757732
+SHUFFLE	COMPRESS_BYTE_COUNT	2954735
+SHUFFLE	COPY_MAP_DATA	199296000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9583415
+SHUFFLE	COMPRESS_BYTE_COUNT	2867686
+SHUFFLE	COPY_MAP_DATA	172341000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10581224
+SHUFFLE	COMPRESS_BYTE_COUNT	3137883
+SHUFFLE	COPY_MAP_DATA	164912000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10256736
+SHUFFLE	COMPRESS_BYTE_COUNT	3060948
+SHUFFLE	COPY_MAP_DATA	213175000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10278496
+SHUFFLE	COMPRESS_BYTE_COUNT	3080709
+SHUFFLE	COPY_MAP_DATA	150069000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10445090
+SHUFFLE	COMPRESS_BYTE_COUNT	3084684
+SHUFFLE	COPY_MAP_DATA	216206000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11159790
+SHUFFLE	COMPRESS_BYTE_COUNT	3284242
+SHUFFLE	COPY_MAP_DATA	527965000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11670672
+SHUFFLE	COMPRESS_BYTE_COUNT	3403500
+SHUFFLE	COPY_MAP_DATA	344467000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11933908
+SHUFFLE	COMPRESS_BYTE_COUNT	3448746
+SHUFFLE	COPY_MAP_DATA	399463000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11716103
+SHUFFLE	COMPRESS_BYTE_COUNT	3433030
+SHUFFLE	COPY_MAP_DATA	262667000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12024835
+SHUFFLE	COMPRESS_BYTE_COUNT	3452809
+SHUFFLE	COPY_MAP_DATA	830451000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12541366
+SHUFFLE	COMPRESS_BYTE_COUNT	3649375
+SHUFFLE	COPY_MAP_DATA	409230000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12728236
+SHUFFLE	COMPRESS_BYTE_COUNT	3689775
+SHUFFLE	COPY_MAP_DATA	297144000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12450244
+SHUFFLE	COMPRESS_BYTE_COUNT	3632368
+SHUFFLE	COPY_MAP_DATA	208388000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12943666
+SHUFFLE	COMPRESS_BYTE_COUNT	3742244
+SHUFFLE	COPY_MAP_DATA	193654000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12867538
+SHUFFLE	COMPRESS_BYTE_COUNT	3723996
+SHUFFLE	COPY_MAP_DATA	205082000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12850918
+SHUFFLE	COMPRESS_BYTE_COUNT	3701525
+SHUFFLE	COPY_MAP_DATA	179420000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13307051
+SHUFFLE	COMPRESS_BYTE_COUNT	3827993
+SHUFFLE	COPY_MAP_DATA	723245000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12183441
+SHUFFLE	COMPRESS_BYTE_COUNT	3540809
+SHUFFLE	COPY_MAP_DATA	237860000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12984062
+SHUFFLE	COMPRESS_BYTE_COUNT	3759807
+SHUFFLE	COPY_MAP_DATA	212218000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13625083
+SHUFFLE	COMPRESS_BYTE_COUNT	3885293
+SHUFFLE	COPY_MAP_DATA	221322000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13621518
+SHUFFLE	COMPRESS_BYTE_COUNT	3870913
+SHUFFLE	COPY_MAP_DATA	203855000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	177394250064
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	COMBINE	176924475064
+MERGE	WRITE	72820844512
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	25103886756
+SORT	READ_WRITE	25018287756
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	63638632
+REDUCE	SETUP	8461000
+REDUCE	SETUP_MEM	63638632
+REDUCE	CLEANUP	49000
+REDUCE	CLEANUP_MEM	93872208
+REDUCE	TOTAL_RUN	140446819511
+REDUCE	READ	28727318755
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	62135945756
+REDUCE	WRITE	28358904756
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	115384824
+REDUCE	VALUE_BYTE_COUNT	6899487
+REDUCE	REDUCE_MEM	93872208
+REDUCE	WRITE	58120000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	987997784093
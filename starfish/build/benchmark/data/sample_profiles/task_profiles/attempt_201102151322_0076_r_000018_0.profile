@@ -0,0 +1,149 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	6908016
+SHUFFLE	COMPRESS_BYTE_COUNT	2152093
+SHUFFLE	COPY_MAP_DATA	1386641000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	8358216
+SHUFFLE	COMPRESS_BYTE_COUNT	2529778
+SHUFFLE	COPY_MAP_DATA	3876133000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9241980
+SHUFFLE	COMPRESS_BYTE_COUNT	2776332
+SHUFFLE	COPY_MAP_DATA	376949000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10217064
+SHUFFLE	COMPRESS_BYTE_COUNT	3054884
+SHUFFLE	COPY_MAP_DATA	345614000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10329290
+SHUFFLE	COMPRESS_BYTE_COUNT	3048969
+SHUFFLE	COPY_MAP_DATA	357988000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10537418
+SHUFFLE	COMPRESS_BYTE_COUNT	3123945
+SHUFFLE	COPY_MAP_DATA	225072000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10685958
+SHUFFLE	COMPRESS_BYTE_COUNT	3133857
+SHUFFLE	COPY_MAP_DATA	288127000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10746578
+SHUFFLE	COMPRESS_BYTE_COUNT	3155392
+SHUFFLE	COPY_MAP_DATA	856944000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9829651
+SHUFFLE	COMPRESS_BYTE_COUNT	2975710
+SHUFFLE	COPY_MAP_DATA	546138000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9623990
+SHUFFLE	COMPRESS_BYTE_COUNT	2872062
+SHUFFLE	COPY_MAP_DATA	146629000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10245091
+SHUFFLE	COMPRESS_BYTE_COUNT	3048773
+SHUFFLE	COPY_MAP_DATA	180736000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10580068
+SHUFFLE	COMPRESS_BYTE_COUNT	3135868
+SHUFFLE	COPY_MAP_DATA	366551000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10305423
+SHUFFLE	COMPRESS_BYTE_COUNT	3079788
+SHUFFLE	COPY_MAP_DATA	146639000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10487430
+SHUFFLE	COMPRESS_BYTE_COUNT	3091058
+SHUFFLE	COPY_MAP_DATA	166099000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11690568
+SHUFFLE	COMPRESS_BYTE_COUNT	3407191
+SHUFFLE	COPY_MAP_DATA	180531000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11180192
+SHUFFLE	COMPRESS_BYTE_COUNT	3278591
+SHUFFLE	COPY_MAP_DATA	199413000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12001688
+SHUFFLE	COMPRESS_BYTE_COUNT	3465455
+SHUFFLE	COPY_MAP_DATA	183224000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11658423
+SHUFFLE	COMPRESS_BYTE_COUNT	3404269
+SHUFFLE	COPY_MAP_DATA	718668000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12075746
+SHUFFLE	COMPRESS_BYTE_COUNT	3463414
+SHUFFLE	COPY_MAP_DATA	242208000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12567592
+SHUFFLE	COMPRESS_BYTE_COUNT	3646165
+SHUFFLE	COPY_MAP_DATA	1234262000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12766448
+SHUFFLE	COMPRESS_BYTE_COUNT	3686149
+SHUFFLE	COPY_MAP_DATA	112072810000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12472244
+SHUFFLE	COMPRESS_BYTE_COUNT	3634255
+SHUFFLE	COPY_MAP_DATA	474377000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13004480
+SHUFFLE	COMPRESS_BYTE_COUNT	3754152
+SHUFFLE	COPY_MAP_DATA	992921000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12918006
+SHUFFLE	COMPRESS_BYTE_COUNT	3727535
+SHUFFLE	COPY_MAP_DATA	196417000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12864702
+SHUFFLE	COMPRESS_BYTE_COUNT	3705459
+SHUFFLE	COPY_MAP_DATA	278122000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13351418
+SHUFFLE	COMPRESS_BYTE_COUNT	3831411
+SHUFFLE	COPY_MAP_DATA	212239000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12228517
+SHUFFLE	COMPRESS_BYTE_COUNT	3547424
+SHUFFLE	COPY_MAP_DATA	224055000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13015795
+SHUFFLE	COMPRESS_BYTE_COUNT	3761197
+SHUFFLE	COPY_MAP_DATA	217792000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13649309
+SHUFFLE	COMPRESS_BYTE_COUNT	3892561
+SHUFFLE	COPY_MAP_DATA	230079000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13611293
+SHUFFLE	COMPRESS_BYTE_COUNT	3873095
+SHUFFLE	COPY_MAP_DATA	255025000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	295156924000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	COMBINE	292053734000
+MERGE	WRITE	90663283000
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	18649752000
+SORT	READ_WRITE	18534164000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	97989464
+REDUCE	SETUP	4027000
+REDUCE	SETUP_MEM	97989464
+REDUCE	CLEANUP	48000
+REDUCE	CLEANUP_MEM	95513936
+REDUCE	TOTAL_RUN	110358379000
+REDUCE	READ	22116988000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	52172068000
+REDUCE	WRITE	22977233000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	115285098
+REDUCE	VALUE_BYTE_COUNT	6895638
+REDUCE	REDUCE_MEM	95513936
+REDUCE	WRITE	53091000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	940655470000
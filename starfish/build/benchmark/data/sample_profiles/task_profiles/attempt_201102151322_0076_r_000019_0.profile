@@ -0,0 +1,149 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	6915534
+SHUFFLE	COMPRESS_BYTE_COUNT	2152224
+SHUFFLE	COPY_MAP_DATA	444014000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	8354768
+SHUFFLE	COMPRESS_BYTE_COUNT	2532124
+SHUFFLE	COPY_MAP_DATA	222935000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9193762
+SHUFFLE	COMPRESS_BYTE_COUNT	2769618
+SHUFFLE	COPY_MAP_DATA	1699568000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10125196
+SHUFFLE	COMPRESS_BYTE_COUNT	3038205
+SHUFFLE	COPY_MAP_DATA	326125000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10333004
+SHUFFLE	COMPRESS_BYTE_COUNT	3050818
+SHUFFLE	COPY_MAP_DATA	193997000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10516668
+SHUFFLE	COMPRESS_BYTE_COUNT	3121089
+SHUFFLE	COPY_MAP_DATA	184750000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10653360
+SHUFFLE	COMPRESS_BYTE_COUNT	3124053
+SHUFFLE	COPY_MAP_DATA	423342000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10756770
+SHUFFLE	COMPRESS_BYTE_COUNT	3155610
+SHUFFLE	COPY_MAP_DATA	253710000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9800218
+SHUFFLE	COMPRESS_BYTE_COUNT	2961049
+SHUFFLE	COPY_MAP_DATA	443579000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9617728
+SHUFFLE	COMPRESS_BYTE_COUNT	2870494
+SHUFFLE	COPY_MAP_DATA	146785000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10589352
+SHUFFLE	COMPRESS_BYTE_COUNT	3137109
+SHUFFLE	COPY_MAP_DATA	1145639000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10245953
+SHUFFLE	COMPRESS_BYTE_COUNT	3052739
+SHUFFLE	COPY_MAP_DATA	212015000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10292748
+SHUFFLE	COMPRESS_BYTE_COUNT	3071664
+SHUFFLE	COPY_MAP_DATA	764455000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10418117
+SHUFFLE	COMPRESS_BYTE_COUNT	3077370
+SHUFFLE	COPY_MAP_DATA	752637000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11646362
+SHUFFLE	COMPRESS_BYTE_COUNT	3395362
+SHUFFLE	COPY_MAP_DATA	518704000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11191040
+SHUFFLE	COMPRESS_BYTE_COUNT	3288720
+SHUFFLE	COPY_MAP_DATA	165149000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11975069
+SHUFFLE	COMPRESS_BYTE_COUNT	3461738
+SHUFFLE	COPY_MAP_DATA	5133121000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11668866
+SHUFFLE	COMPRESS_BYTE_COUNT	3419684
+SHUFFLE	COPY_MAP_DATA	322328000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12018944
+SHUFFLE	COMPRESS_BYTE_COUNT	3450840
+SHUFFLE	COPY_MAP_DATA	675219000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12589386
+SHUFFLE	COMPRESS_BYTE_COUNT	3660690
+SHUFFLE	COPY_MAP_DATA	257677000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12739160
+SHUFFLE	COMPRESS_BYTE_COUNT	3685253
+SHUFFLE	COPY_MAP_DATA	49673787000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12439754
+SHUFFLE	COMPRESS_BYTE_COUNT	3627668
+SHUFFLE	COPY_MAP_DATA	297386000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12931306
+SHUFFLE	COMPRESS_BYTE_COUNT	3739420
+SHUFFLE	COPY_MAP_DATA	195845000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12890922
+SHUFFLE	COMPRESS_BYTE_COUNT	3712266
+SHUFFLE	COPY_MAP_DATA	196200000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12833640
+SHUFFLE	COMPRESS_BYTE_COUNT	3703812
+SHUFFLE	COPY_MAP_DATA	216041000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13382492
+SHUFFLE	COMPRESS_BYTE_COUNT	3848130
+SHUFFLE	COPY_MAP_DATA	203162000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12189892
+SHUFFLE	COMPRESS_BYTE_COUNT	3545171
+SHUFFLE	COPY_MAP_DATA	202745000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13011636
+SHUFFLE	COMPRESS_BYTE_COUNT	3767247
+SHUFFLE	COPY_MAP_DATA	227649000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13644252
+SHUFFLE	COMPRESS_BYTE_COUNT	3887523
+SHUFFLE	COPY_MAP_DATA	199850000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13644646
+SHUFFLE	COMPRESS_BYTE_COUNT	3875505
+SHUFFLE	COPY_MAP_DATA	320963000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	220814520000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	COMBINE	220068444000
+MERGE	WRITE	77798946000
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	18393507000
+SORT	READ_WRITE	18298512000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	237645360
+REDUCE	SETUP	296000
+REDUCE	SETUP_MEM	237645360
+REDUCE	CLEANUP	65000
+REDUCE	CLEANUP_MEM	226786368
+REDUCE	TOTAL_RUN	106621835000
+REDUCE	READ	21741255000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	50278335000
+REDUCE	WRITE	22423929000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	115349414
+REDUCE	VALUE_BYTE_COUNT	6896354
+REDUCE	REDUCE_MEM	226786368
+REDUCE	WRITE	28646000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	942568589000
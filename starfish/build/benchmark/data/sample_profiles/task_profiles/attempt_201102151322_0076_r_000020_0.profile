@@ -0,0 +1,149 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	8337192
+SHUFFLE	COMPRESS_BYTE_COUNT	2534740
+SHUFFLE	COPY_MAP_DATA	2450493000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	6912028
+SHUFFLE	COMPRESS_BYTE_COUNT	2154358
+SHUFFLE	COPY_MAP_DATA	1921835143
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9224280
+SHUFFLE	COMPRESS_BYTE_COUNT	2778484
+SHUFFLE	COPY_MAP_DATA	384036000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10175530
+SHUFFLE	COMPRESS_BYTE_COUNT	3045535
+SHUFFLE	COPY_MAP_DATA	411150000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10288449
+SHUFFLE	COMPRESS_BYTE_COUNT	3032156
+SHUFFLE	COPY_MAP_DATA	1264789000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10482913
+SHUFFLE	COMPRESS_BYTE_COUNT	3113115
+SHUFFLE	COPY_MAP_DATA	1118734000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10642458
+SHUFFLE	COMPRESS_BYTE_COUNT	3128746
+SHUFFLE	COPY_MAP_DATA	1064095000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10734762
+SHUFFLE	COMPRESS_BYTE_COUNT	3151285
+SHUFFLE	COPY_MAP_DATA	854387000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9768338
+SHUFFLE	COMPRESS_BYTE_COUNT	2954425
+SHUFFLE	COPY_MAP_DATA	401378000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9562578
+SHUFFLE	COMPRESS_BYTE_COUNT	2853118
+SHUFFLE	COPY_MAP_DATA	223008000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10569720
+SHUFFLE	COMPRESS_BYTE_COUNT	3136871
+SHUFFLE	COPY_MAP_DATA	991963000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10219462
+SHUFFLE	COMPRESS_BYTE_COUNT	3041012
+SHUFFLE	COPY_MAP_DATA	544215000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10271962
+SHUFFLE	COMPRESS_BYTE_COUNT	3072798
+SHUFFLE	COPY_MAP_DATA	148604000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10430760
+SHUFFLE	COMPRESS_BYTE_COUNT	3081644
+SHUFFLE	COPY_MAP_DATA	637467000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11129124
+SHUFFLE	COMPRESS_BYTE_COUNT	3269574
+SHUFFLE	COPY_MAP_DATA	224807000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11607778
+SHUFFLE	COMPRESS_BYTE_COUNT	3387692
+SHUFFLE	COPY_MAP_DATA	1304243000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11971806
+SHUFFLE	COMPRESS_BYTE_COUNT	3472192
+SHUFFLE	COPY_MAP_DATA	2767073000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11641408
+SHUFFLE	COMPRESS_BYTE_COUNT	3405497
+SHUFFLE	COPY_MAP_DATA	747642000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12025254
+SHUFFLE	COMPRESS_BYTE_COUNT	3452617
+SHUFFLE	COPY_MAP_DATA	436042000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12560432
+SHUFFLE	COMPRESS_BYTE_COUNT	3653026
+SHUFFLE	COPY_MAP_DATA	460509000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12731851
+SHUFFLE	COMPRESS_BYTE_COUNT	3681167
+SHUFFLE	COPY_MAP_DATA	113519068143
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12389440
+SHUFFLE	COMPRESS_BYTE_COUNT	3616321
+SHUFFLE	COPY_MAP_DATA	2619889142
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12988027
+SHUFFLE	COMPRESS_BYTE_COUNT	3760097
+SHUFFLE	COPY_MAP_DATA	385936000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12837486
+SHUFFLE	COMPRESS_BYTE_COUNT	3708637
+SHUFFLE	COPY_MAP_DATA	859878000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12839981
+SHUFFLE	COMPRESS_BYTE_COUNT	3701234
+SHUFFLE	COPY_MAP_DATA	467343000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13326766
+SHUFFLE	COMPRESS_BYTE_COUNT	3836257
+SHUFFLE	COPY_MAP_DATA	221644000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12222170
+SHUFFLE	COMPRESS_BYTE_COUNT	3551663
+SHUFFLE	COPY_MAP_DATA	275471000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13014980
+SHUFFLE	COMPRESS_BYTE_COUNT	3771626
+SHUFFLE	COPY_MAP_DATA	538098000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13627238
+SHUFFLE	COMPRESS_BYTE_COUNT	3883560
+SHUFFLE	COPY_MAP_DATA	242028000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13636664
+SHUFFLE	COMPRESS_BYTE_COUNT	3881846
+SHUFFLE	COPY_MAP_DATA	239582000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	303562389713
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	COMBINE	300711263713
+MERGE	WRITE	104366922284
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	65235727990
+SORT	READ_WRITE	65065723990
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	141667416
+REDUCE	SETUP	2233000
+REDUCE	SETUP_MEM	141667416
+REDUCE	CLEANUP	32000
+REDUCE	CLEANUP_MEM	183245776
+REDUCE	TOTAL_RUN	126252072437
+REDUCE	READ	19629510000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	60008602437
+REDUCE	WRITE	24281075000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	115373388
+REDUCE	VALUE_BYTE_COUNT	6898651
+REDUCE	REDUCE_MEM	183247824
+REDUCE	WRITE	9642000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	1007911760004
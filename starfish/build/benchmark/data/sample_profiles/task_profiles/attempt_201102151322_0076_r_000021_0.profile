@@ -0,0 +1,149 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	6949286
+SHUFFLE	COMPRESS_BYTE_COUNT	2160968
+SHUFFLE	COPY_MAP_DATA	337918000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	8410250
+SHUFFLE	COMPRESS_BYTE_COUNT	2542764
+SHUFFLE	COPY_MAP_DATA	400127000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9245034
+SHUFFLE	COMPRESS_BYTE_COUNT	2775890
+SHUFFLE	COPY_MAP_DATA	3074161000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10235512
+SHUFFLE	COMPRESS_BYTE_COUNT	3054533
+SHUFFLE	COPY_MAP_DATA	542141000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10301848
+SHUFFLE	COMPRESS_BYTE_COUNT	3032620
+SHUFFLE	COPY_MAP_DATA	182298000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10539171
+SHUFFLE	COMPRESS_BYTE_COUNT	3113953
+SHUFFLE	COPY_MAP_DATA	198149000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10716415
+SHUFFLE	COMPRESS_BYTE_COUNT	3133295
+SHUFFLE	COPY_MAP_DATA	251805000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10773730
+SHUFFLE	COMPRESS_BYTE_COUNT	3161460
+SHUFFLE	COPY_MAP_DATA	181720000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9847487
+SHUFFLE	COMPRESS_BYTE_COUNT	2966750
+SHUFFLE	COPY_MAP_DATA	161520000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9644177
+SHUFFLE	COMPRESS_BYTE_COUNT	2872458
+SHUFFLE	COPY_MAP_DATA	154673000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10278948
+SHUFFLE	COMPRESS_BYTE_COUNT	3051644
+SHUFFLE	COPY_MAP_DATA	164429000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10581226
+SHUFFLE	COMPRESS_BYTE_COUNT	3130219
+SHUFFLE	COPY_MAP_DATA	202872000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10369929
+SHUFFLE	COMPRESS_BYTE_COUNT	3097846
+SHUFFLE	COPY_MAP_DATA	166425000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10520573
+SHUFFLE	COMPRESS_BYTE_COUNT	3095899
+SHUFFLE	COPY_MAP_DATA	185158000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11207939
+SHUFFLE	COMPRESS_BYTE_COUNT	3281597
+SHUFFLE	COPY_MAP_DATA	230091000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11707382
+SHUFFLE	COMPRESS_BYTE_COUNT	3407383
+SHUFFLE	COPY_MAP_DATA	224506000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12000734
+SHUFFLE	COMPRESS_BYTE_COUNT	3465280
+SHUFFLE	COPY_MAP_DATA	553084000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11738516
+SHUFFLE	COMPRESS_BYTE_COUNT	3428714
+SHUFFLE	COPY_MAP_DATA	763964000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12096174
+SHUFFLE	COMPRESS_BYTE_COUNT	3460965
+SHUFFLE	COPY_MAP_DATA	163309000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12617678
+SHUFFLE	COMPRESS_BYTE_COUNT	3659191
+SHUFFLE	COPY_MAP_DATA	202732000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12775906
+SHUFFLE	COMPRESS_BYTE_COUNT	3680947
+SHUFFLE	COPY_MAP_DATA	352197000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12507615
+SHUFFLE	COMPRESS_BYTE_COUNT	3633914
+SHUFFLE	COPY_MAP_DATA	195463000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13043974
+SHUFFLE	COMPRESS_BYTE_COUNT	3759394
+SHUFFLE	COPY_MAP_DATA	194282000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12981360
+SHUFFLE	COMPRESS_BYTE_COUNT	3731899
+SHUFFLE	COPY_MAP_DATA	226269000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12907278
+SHUFFLE	COMPRESS_BYTE_COUNT	3712285
+SHUFFLE	COPY_MAP_DATA	194307000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13392728
+SHUFFLE	COMPRESS_BYTE_COUNT	3842067
+SHUFFLE	COPY_MAP_DATA	252336000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12214974
+SHUFFLE	COMPRESS_BYTE_COUNT	3543612
+SHUFFLE	COPY_MAP_DATA	174026000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13060214
+SHUFFLE	COMPRESS_BYTE_COUNT	3765793
+SHUFFLE	COPY_MAP_DATA	213128000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13670124
+SHUFFLE	COMPRESS_BYTE_COUNT	3893020
+SHUFFLE	COPY_MAP_DATA	214157000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13708520
+SHUFFLE	COMPRESS_BYTE_COUNT	3881655
+SHUFFLE	COPY_MAP_DATA	244442000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	155122251000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	COMBINE	154738358000
+MERGE	WRITE	64790238000
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	23928701000
+SORT	READ_WRITE	23829566000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	122367304
+REDUCE	SETUP	346000
+REDUCE	SETUP_MEM	122367304
+REDUCE	CLEANUP	37000
+REDUCE	CLEANUP_MEM	76645960
+REDUCE	TOTAL_RUN	109726673000
+REDUCE	READ	21969543000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	52825268000
+REDUCE	WRITE	25005785000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	115421434
+REDUCE	VALUE_BYTE_COUNT	6901667
+REDUCE	REDUCE_MEM	76645960
+REDUCE	WRITE	49192000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	943937631218
@@ -0,0 +1,149 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	6929922
+SHUFFLE	COMPRESS_BYTE_COUNT	2162964
+SHUFFLE	COPY_MAP_DATA	226284000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	8362400
+SHUFFLE	COMPRESS_BYTE_COUNT	2535419
+SHUFFLE	COPY_MAP_DATA	199798000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9203232
+SHUFFLE	COMPRESS_BYTE_COUNT	2769874
+SHUFFLE	COPY_MAP_DATA	754777000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10184898
+SHUFFLE	COMPRESS_BYTE_COUNT	3053911
+SHUFFLE	COPY_MAP_DATA	220791000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10289376
+SHUFFLE	COMPRESS_BYTE_COUNT	3044091
+SHUFFLE	COPY_MAP_DATA	347334000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10540116
+SHUFFLE	COMPRESS_BYTE_COUNT	3129231
+SHUFFLE	COPY_MAP_DATA	601456000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10621902
+SHUFFLE	COMPRESS_BYTE_COUNT	3122200
+SHUFFLE	COPY_MAP_DATA	394949000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9787050
+SHUFFLE	COMPRESS_BYTE_COUNT	2965443
+SHUFFLE	COPY_MAP_DATA	405195000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10700498
+SHUFFLE	COMPRESS_BYTE_COUNT	3147028
+SHUFFLE	COPY_MAP_DATA	170151000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9586920
+SHUFFLE	COMPRESS_BYTE_COUNT	2871078
+SHUFFLE	COPY_MAP_DATA	403241000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10198152
+SHUFFLE	COMPRESS_BYTE_COUNT	3032115
+SHUFFLE	COPY_MAP_DATA	225004000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10584298
+SHUFFLE	COMPRESS_BYTE_COUNT	3136040
+SHUFFLE	COPY_MAP_DATA	203454000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10271326
+SHUFFLE	COMPRESS_BYTE_COUNT	3076121
+SHUFFLE	COPY_MAP_DATA	222850000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10416148
+SHUFFLE	COMPRESS_BYTE_COUNT	3075151
+SHUFFLE	COPY_MAP_DATA	201368000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11640860
+SHUFFLE	COMPRESS_BYTE_COUNT	3393792
+SHUFFLE	COPY_MAP_DATA	173408000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11146684
+SHUFFLE	COMPRESS_BYTE_COUNT	3281947
+SHUFFLE	COPY_MAP_DATA	3736213000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11970230
+SHUFFLE	COMPRESS_BYTE_COUNT	3463361
+SHUFFLE	COPY_MAP_DATA	180525000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11624138
+SHUFFLE	COMPRESS_BYTE_COUNT	3405047
+SHUFFLE	COPY_MAP_DATA	276137000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12007070
+SHUFFLE	COMPRESS_BYTE_COUNT	3447546
+SHUFFLE	COPY_MAP_DATA	725197000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12498409
+SHUFFLE	COMPRESS_BYTE_COUNT	3641362
+SHUFFLE	COPY_MAP_DATA	2062368000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12739020
+SHUFFLE	COMPRESS_BYTE_COUNT	3696080
+SHUFFLE	COPY_MAP_DATA	34881153000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12439630
+SHUFFLE	COMPRESS_BYTE_COUNT	3629577
+SHUFFLE	COPY_MAP_DATA	190511000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12987156
+SHUFFLE	COMPRESS_BYTE_COUNT	3760221
+SHUFFLE	COPY_MAP_DATA	296147000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12862096
+SHUFFLE	COMPRESS_BYTE_COUNT	3714141
+SHUFFLE	COPY_MAP_DATA	411718000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12846730
+SHUFFLE	COMPRESS_BYTE_COUNT	3714403
+SHUFFLE	COPY_MAP_DATA	218495000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13286868
+SHUFFLE	COMPRESS_BYTE_COUNT	3822473
+SHUFFLE	COPY_MAP_DATA	206100000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12170082
+SHUFFLE	COMPRESS_BYTE_COUNT	3542532
+SHUFFLE	COPY_MAP_DATA	189593000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12970116
+SHUFFLE	COMPRESS_BYTE_COUNT	3754316
+SHUFFLE	COPY_MAP_DATA	209957000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13653924
+SHUFFLE	COMPRESS_BYTE_COUNT	3895325
+SHUFFLE	COPY_MAP_DATA	215900000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13619127
+SHUFFLE	COMPRESS_BYTE_COUNT	3872134
+SHUFFLE	COPY_MAP_DATA	271878000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	219647186006
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	COMBINE	219435433006
+MERGE	WRITE	83571878000
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	18414418000
+SORT	READ_WRITE	18337750000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	78604792
+REDUCE	SETUP	263000
+REDUCE	SETUP_MEM	78604792
+REDUCE	CLEANUP	42000
+REDUCE	CLEANUP_MEM	99130232
+REDUCE	TOTAL_RUN	130190523228
+REDUCE	READ	20563539000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	59318498228
+REDUCE	WRITE	26144623074
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	115453824
+REDUCE	VALUE_BYTE_COUNT	6902429
+REDUCE	REDUCE_MEM	99132280
+REDUCE	WRITE	10368000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	964788615815
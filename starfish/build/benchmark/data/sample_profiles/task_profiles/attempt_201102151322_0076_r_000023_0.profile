@@ -0,0 +1,149 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	8393714
+SHUFFLE	COMPRESS_BYTE_COUNT	2540995
+SHUFFLE	COPY_MAP_DATA	341729000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	6963690
+SHUFFLE	COMPRESS_BYTE_COUNT	2165965
+SHUFFLE	COPY_MAP_DATA	702423000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9254740
+SHUFFLE	COMPRESS_BYTE_COUNT	2775768
+SHUFFLE	COPY_MAP_DATA	336090000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10207874
+SHUFFLE	COMPRESS_BYTE_COUNT	3048801
+SHUFFLE	COPY_MAP_DATA	324066000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10329420
+SHUFFLE	COMPRESS_BYTE_COUNT	3043701
+SHUFFLE	COPY_MAP_DATA	199855000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10586165
+SHUFFLE	COMPRESS_BYTE_COUNT	3132524
+SHUFFLE	COPY_MAP_DATA	551071000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10722152
+SHUFFLE	COMPRESS_BYTE_COUNT	3139146
+SHUFFLE	COPY_MAP_DATA	472356000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10804348
+SHUFFLE	COMPRESS_BYTE_COUNT	3161487
+SHUFFLE	COPY_MAP_DATA	173677000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9836190
+SHUFFLE	COMPRESS_BYTE_COUNT	2969258
+SHUFFLE	COPY_MAP_DATA	287213000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9631488
+SHUFFLE	COMPRESS_BYTE_COUNT	2865854
+SHUFFLE	COPY_MAP_DATA	155384000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10311938
+SHUFFLE	COMPRESS_BYTE_COUNT	3056450
+SHUFFLE	COPY_MAP_DATA	193486000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10627860
+SHUFFLE	COMPRESS_BYTE_COUNT	3137850
+SHUFFLE	COPY_MAP_DATA	182596000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10379764
+SHUFFLE	COMPRESS_BYTE_COUNT	3090980
+SHUFFLE	COPY_MAP_DATA	207950000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10477955
+SHUFFLE	COMPRESS_BYTE_COUNT	3078716
+SHUFFLE	COPY_MAP_DATA	200589000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11734026
+SHUFFLE	COMPRESS_BYTE_COUNT	3418091
+SHUFFLE	COPY_MAP_DATA	218972000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11255980
+SHUFFLE	COMPRESS_BYTE_COUNT	3294090
+SHUFFLE	COPY_MAP_DATA	181812000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12064782
+SHUFFLE	COMPRESS_BYTE_COUNT	3474770
+SHUFFLE	COPY_MAP_DATA	988600000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11731488
+SHUFFLE	COMPRESS_BYTE_COUNT	3424697
+SHUFFLE	COPY_MAP_DATA	181221000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12085646
+SHUFFLE	COMPRESS_BYTE_COUNT	3461793
+SHUFFLE	COPY_MAP_DATA	1099813000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12655710
+SHUFFLE	COMPRESS_BYTE_COUNT	3660914
+SHUFFLE	COPY_MAP_DATA	184036000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12813286
+SHUFFLE	COMPRESS_BYTE_COUNT	3688712
+SHUFFLE	COPY_MAP_DATA	353841000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12543922
+SHUFFLE	COMPRESS_BYTE_COUNT	3635845
+SHUFFLE	COPY_MAP_DATA	196158000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13053266
+SHUFFLE	COMPRESS_BYTE_COUNT	3757297
+SHUFFLE	COPY_MAP_DATA	214432000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12953662
+SHUFFLE	COMPRESS_BYTE_COUNT	3721059
+SHUFFLE	COPY_MAP_DATA	215083000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12925768
+SHUFFLE	COMPRESS_BYTE_COUNT	3715475
+SHUFFLE	COPY_MAP_DATA	207255000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13430502
+SHUFFLE	COMPRESS_BYTE_COUNT	3841633
+SHUFFLE	COPY_MAP_DATA	231759000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12240102
+SHUFFLE	COMPRESS_BYTE_COUNT	3544584
+SHUFFLE	COPY_MAP_DATA	187682000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13045866
+SHUFFLE	COMPRESS_BYTE_COUNT	3759718
+SHUFFLE	COPY_MAP_DATA	200717000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13739963
+SHUFFLE	COMPRESS_BYTE_COUNT	3899293
+SHUFFLE	COPY_MAP_DATA	241699000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13739756
+SHUFFLE	COMPRESS_BYTE_COUNT	3883094
+SHUFFLE	COPY_MAP_DATA	247027000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	168345849000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	COMBINE	167816107000
+MERGE	WRITE	68743273000
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	18384914000
+SORT	READ_WRITE	18285029000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	107604096
+REDUCE	SETUP	281000
+REDUCE	SETUP_MEM	107604096
+REDUCE	CLEANUP	54000
+REDUCE	CLEANUP_MEM	122670072
+REDUCE	TOTAL_RUN	107603864000
+REDUCE	READ	21793756000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	51077190000
+REDUCE	WRITE	23358469000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	115400296
+REDUCE	VALUE_BYTE_COUNT	6899584
+REDUCE	REDUCE_MEM	122670072
+REDUCE	WRITE	31516000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	946410278518
@@ -0,0 +1,149 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	8423060
+SHUFFLE	COMPRESS_BYTE_COUNT	2545773
+SHUFFLE	COPY_MAP_DATA	265334000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	6938826
+SHUFFLE	COMPRESS_BYTE_COUNT	2154550
+SHUFFLE	COPY_MAP_DATA	175599000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9269052
+SHUFFLE	COMPRESS_BYTE_COUNT	2781646
+SHUFFLE	COPY_MAP_DATA	316674000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10235603
+SHUFFLE	COMPRESS_BYTE_COUNT	3051335
+SHUFFLE	COPY_MAP_DATA	241781000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10415106
+SHUFFLE	COMPRESS_BYTE_COUNT	3065132
+SHUFFLE	COPY_MAP_DATA	184012000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10572876
+SHUFFLE	COMPRESS_BYTE_COUNT	3127453
+SHUFFLE	COPY_MAP_DATA	210021000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10737068
+SHUFFLE	COMPRESS_BYTE_COUNT	3143179
+SHUFFLE	COPY_MAP_DATA	310719000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9836730
+SHUFFLE	COMPRESS_BYTE_COUNT	2960061
+SHUFFLE	COPY_MAP_DATA	202153000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10780134
+SHUFFLE	COMPRESS_BYTE_COUNT	3152668
+SHUFFLE	COPY_MAP_DATA	168832000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9663110
+SHUFFLE	COMPRESS_BYTE_COUNT	2877217
+SHUFFLE	COPY_MAP_DATA	218694000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10331390
+SHUFFLE	COMPRESS_BYTE_COUNT	3069785
+SHUFFLE	COPY_MAP_DATA	166481000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10632030
+SHUFFLE	COMPRESS_BYTE_COUNT	3130898
+SHUFFLE	COPY_MAP_DATA	285915000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10340456
+SHUFFLE	COMPRESS_BYTE_COUNT	3082943
+SHUFFLE	COPY_MAP_DATA	246393000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10501152
+SHUFFLE	COMPRESS_BYTE_COUNT	3087428
+SHUFFLE	COPY_MAP_DATA	154209000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11786856
+SHUFFLE	COMPRESS_BYTE_COUNT	3428159
+SHUFFLE	COPY_MAP_DATA	255156000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11239211
+SHUFFLE	COMPRESS_BYTE_COUNT	3289957
+SHUFFLE	COPY_MAP_DATA	1485809000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11982908
+SHUFFLE	COMPRESS_BYTE_COUNT	3451335
+SHUFFLE	COPY_MAP_DATA	195887000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11723256
+SHUFFLE	COMPRESS_BYTE_COUNT	3419040
+SHUFFLE	COPY_MAP_DATA	757301000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12107310
+SHUFFLE	COMPRESS_BYTE_COUNT	3460991
+SHUFFLE	COPY_MAP_DATA	644507000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12651000
+SHUFFLE	COMPRESS_BYTE_COUNT	3664174
+SHUFFLE	COPY_MAP_DATA	940517000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12799836
+SHUFFLE	COMPRESS_BYTE_COUNT	3683258
+SHUFFLE	COPY_MAP_DATA	223780000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12559546
+SHUFFLE	COMPRESS_BYTE_COUNT	3646281
+SHUFFLE	COPY_MAP_DATA	288590000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13117138
+SHUFFLE	COMPRESS_BYTE_COUNT	3769079
+SHUFFLE	COPY_MAP_DATA	197410000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12957182
+SHUFFLE	COMPRESS_BYTE_COUNT	3722426
+SHUFFLE	COPY_MAP_DATA	208254000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12952578
+SHUFFLE	COMPRESS_BYTE_COUNT	3719971
+SHUFFLE	COPY_MAP_DATA	250623000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13372902
+SHUFFLE	COMPRESS_BYTE_COUNT	3825318
+SHUFFLE	COPY_MAP_DATA	216786000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12314832
+SHUFFLE	COMPRESS_BYTE_COUNT	3563732
+SHUFFLE	COPY_MAP_DATA	208300000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13079744
+SHUFFLE	COMPRESS_BYTE_COUNT	3770705
+SHUFFLE	COPY_MAP_DATA	195942000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13791505
+SHUFFLE	COMPRESS_BYTE_COUNT	3917624
+SHUFFLE	COPY_MAP_DATA	229885000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13710610
+SHUFFLE	COMPRESS_BYTE_COUNT	3878504
+SHUFFLE	COPY_MAP_DATA	232947000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	170400212000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	COMBINE	170216677000
+MERGE	WRITE	68657560000
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	23823815000
+SORT	READ_WRITE	23736683000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	108798104
+REDUCE	SETUP	323000
+REDUCE	SETUP_MEM	108798104
+REDUCE	CLEANUP	38000
+REDUCE	CLEANUP_MEM	87655144
+REDUCE	TOTAL_RUN	107758193000
+REDUCE	READ	23039399000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	50975004000
+REDUCE	WRITE	22612779000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	115494460
+REDUCE	VALUE_BYTE_COUNT	6904636
+REDUCE	REDUCE_MEM	87657192
+REDUCE	WRITE	9386000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	950695478214
@@ -0,0 +1,149 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	6928048
+SHUFFLE	COMPRESS_BYTE_COUNT	2156444
+SHUFFLE	COPY_MAP_DATA	296495000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	8379860
+SHUFFLE	COMPRESS_BYTE_COUNT	2538905
+SHUFFLE	COPY_MAP_DATA	343159000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9259220
+SHUFFLE	COMPRESS_BYTE_COUNT	2786123
+SHUFFLE	COPY_MAP_DATA	379182000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10167748
+SHUFFLE	COMPRESS_BYTE_COUNT	3042582
+SHUFFLE	COPY_MAP_DATA	212056000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10371660
+SHUFFLE	COMPRESS_BYTE_COUNT	3060593
+SHUFFLE	COPY_MAP_DATA	419564000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10549398
+SHUFFLE	COMPRESS_BYTE_COUNT	3123863
+SHUFFLE	COPY_MAP_DATA	433484000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10663859
+SHUFFLE	COMPRESS_BYTE_COUNT	3132631
+SHUFFLE	COPY_MAP_DATA	347754641
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10747810
+SHUFFLE	COMPRESS_BYTE_COUNT	3158614
+SHUFFLE	COPY_MAP_DATA	1399606000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9811868
+SHUFFLE	COMPRESS_BYTE_COUNT	2967326
+SHUFFLE	COPY_MAP_DATA	452241000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9634960
+SHUFFLE	COMPRESS_BYTE_COUNT	2871461
+SHUFFLE	COPY_MAP_DATA	221535000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10275208
+SHUFFLE	COMPRESS_BYTE_COUNT	3051978
+SHUFFLE	COPY_MAP_DATA	293433000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10593834
+SHUFFLE	COMPRESS_BYTE_COUNT	3138583
+SHUFFLE	COPY_MAP_DATA	221812000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10337446
+SHUFFLE	COMPRESS_BYTE_COUNT	3092032
+SHUFFLE	COPY_MAP_DATA	249933000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10464966
+SHUFFLE	COMPRESS_BYTE_COUNT	3084735
+SHUFFLE	COPY_MAP_DATA	161159000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11711632
+SHUFFLE	COMPRESS_BYTE_COUNT	3411990
+SHUFFLE	COPY_MAP_DATA	305525000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11206178
+SHUFFLE	COMPRESS_BYTE_COUNT	3291473
+SHUFFLE	COPY_MAP_DATA	420917000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11984084
+SHUFFLE	COMPRESS_BYTE_COUNT	3463714
+SHUFFLE	COPY_MAP_DATA	1690316000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12033070
+SHUFFLE	COMPRESS_BYTE_COUNT	3455995
+SHUFFLE	COPY_MAP_DATA	1070537000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11725358
+SHUFFLE	COMPRESS_BYTE_COUNT	3424633
+SHUFFLE	COPY_MAP_DATA	316428000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12610738
+SHUFFLE	COMPRESS_BYTE_COUNT	3662534
+SHUFFLE	COPY_MAP_DATA	263061000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12741210
+SHUFFLE	COMPRESS_BYTE_COUNT	3684163
+SHUFFLE	COPY_MAP_DATA	124530711283
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12460545
+SHUFFLE	COMPRESS_BYTE_COUNT	3624876
+SHUFFLE	COPY_MAP_DATA	187622000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12935594
+SHUFFLE	COMPRESS_BYTE_COUNT	3727248
+SHUFFLE	COPY_MAP_DATA	189143000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13021719
+SHUFFLE	COMPRESS_BYTE_COUNT	3755541
+SHUFFLE	COPY_MAP_DATA	526570000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12916824
+SHUFFLE	COMPRESS_BYTE_COUNT	3721608
+SHUFFLE	COPY_MAP_DATA	424306000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13359733
+SHUFFLE	COMPRESS_BYTE_COUNT	3829630
+SHUFFLE	COPY_MAP_DATA	386167000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12218076
+SHUFFLE	COMPRESS_BYTE_COUNT	3546145
+SHUFFLE	COPY_MAP_DATA	343055000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12995380
+SHUFFLE	COMPRESS_BYTE_COUNT	3764081
+SHUFFLE	COPY_MAP_DATA	313792000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13673088
+SHUFFLE	COMPRESS_BYTE_COUNT	3894475
+SHUFFLE	COPY_MAP_DATA	192837000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13641862
+SHUFFLE	COMPRESS_BYTE_COUNT	3874654
+SHUFFLE	COPY_MAP_DATA	503292000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	336214526511
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	COMBINE	335301635511
+MERGE	WRITE	114476121925
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	23939569000
+SORT	READ_WRITE	23845011000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	124378856
+REDUCE	SETUP	340000
+REDUCE	SETUP_MEM	124378856
+REDUCE	CLEANUP	44000
+REDUCE	CLEANUP_MEM	80004800
+REDUCE	TOTAL_RUN	135405567435
+REDUCE	READ	27403146794
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	58719795641
+REDUCE	WRITE	25260586641
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	115439352
+REDUCE	VALUE_BYTE_COUNT	6904177
+REDUCE	REDUCE_MEM	80006848
+REDUCE	WRITE	404986000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	978479072417
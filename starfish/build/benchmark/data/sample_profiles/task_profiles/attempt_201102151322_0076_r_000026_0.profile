@@ -0,0 +1,149 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	6910386
+SHUFFLE	COMPRESS_BYTE_COUNT	2153876
+SHUFFLE	COPY_MAP_DATA	557532000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	8339976
+SHUFFLE	COMPRESS_BYTE_COUNT	2534405
+SHUFFLE	COPY_MAP_DATA	322367000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9204798
+SHUFFLE	COMPRESS_BYTE_COUNT	2771404
+SHUFFLE	COPY_MAP_DATA	358591000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10167666
+SHUFFLE	COMPRESS_BYTE_COUNT	3048641
+SHUFFLE	COPY_MAP_DATA	490229000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10308112
+SHUFFLE	COMPRESS_BYTE_COUNT	3048193
+SHUFFLE	COPY_MAP_DATA	175693000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10511274
+SHUFFLE	COMPRESS_BYTE_COUNT	3124701
+SHUFFLE	COPY_MAP_DATA	198201000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10647584
+SHUFFLE	COMPRESS_BYTE_COUNT	3130172
+SHUFFLE	COPY_MAP_DATA	252576000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10751976
+SHUFFLE	COMPRESS_BYTE_COUNT	3159198
+SHUFFLE	COPY_MAP_DATA	383464000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9751870
+SHUFFLE	COMPRESS_BYTE_COUNT	2951349
+SHUFFLE	COPY_MAP_DATA	167851000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9594587
+SHUFFLE	COMPRESS_BYTE_COUNT	2871824
+SHUFFLE	COPY_MAP_DATA	155433000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10212470
+SHUFFLE	COMPRESS_BYTE_COUNT	3042771
+SHUFFLE	COPY_MAP_DATA	285370000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10560490
+SHUFFLE	COMPRESS_BYTE_COUNT	3137254
+SHUFFLE	COPY_MAP_DATA	268205000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10325066
+SHUFFLE	COMPRESS_BYTE_COUNT	3087895
+SHUFFLE	COPY_MAP_DATA	181107000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10432102
+SHUFFLE	COMPRESS_BYTE_COUNT	3079171
+SHUFFLE	COPY_MAP_DATA	251827000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11672653
+SHUFFLE	COMPRESS_BYTE_COUNT	3404681
+SHUFFLE	COPY_MAP_DATA	247608000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11148392
+SHUFFLE	COMPRESS_BYTE_COUNT	3272807
+SHUFFLE	COPY_MAP_DATA	257927000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11953656
+SHUFFLE	COMPRESS_BYTE_COUNT	3457699
+SHUFFLE	COPY_MAP_DATA	1202046000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12009330
+SHUFFLE	COMPRESS_BYTE_COUNT	3447792
+SHUFFLE	COPY_MAP_DATA	180881000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11708742
+SHUFFLE	COMPRESS_BYTE_COUNT	3435363
+SHUFFLE	COPY_MAP_DATA	179881000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12567368
+SHUFFLE	COMPRESS_BYTE_COUNT	3656942
+SHUFFLE	COPY_MAP_DATA	521825000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12710134
+SHUFFLE	COMPRESS_BYTE_COUNT	3682603
+SHUFFLE	COPY_MAP_DATA	194175000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12440822
+SHUFFLE	COMPRESS_BYTE_COUNT	3626792
+SHUFFLE	COPY_MAP_DATA	309065000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12976064
+SHUFFLE	COMPRESS_BYTE_COUNT	3752380
+SHUFFLE	COPY_MAP_DATA	196554000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12862199
+SHUFFLE	COMPRESS_BYTE_COUNT	3713341
+SHUFFLE	COPY_MAP_DATA	194643000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12827868
+SHUFFLE	COMPRESS_BYTE_COUNT	3700276
+SHUFFLE	COPY_MAP_DATA	219133000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13342454
+SHUFFLE	COMPRESS_BYTE_COUNT	3838999
+SHUFFLE	COPY_MAP_DATA	201261000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12164082
+SHUFFLE	COMPRESS_BYTE_COUNT	3539340
+SHUFFLE	COPY_MAP_DATA	182115000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13025385
+SHUFFLE	COMPRESS_BYTE_COUNT	3783655
+SHUFFLE	COPY_MAP_DATA	253237000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13630940
+SHUFFLE	COMPRESS_BYTE_COUNT	3888756
+SHUFFLE	COPY_MAP_DATA	288929000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13586471
+SHUFFLE	COMPRESS_BYTE_COUNT	3862471
+SHUFFLE	COPY_MAP_DATA	490861000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	170375105519
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	COMBINE	170173312519
+MERGE	WRITE	67844494202
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	23974946000
+SORT	READ_WRITE	23893226000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	76793360
+REDUCE	SETUP	300000
+REDUCE	SETUP_MEM	76793360
+REDUCE	CLEANUP	35000
+REDUCE	CLEANUP_MEM	97642576
+REDUCE	TOTAL_RUN	124833738330
+REDUCE	READ	20499334000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	56735515229
+REDUCE	WRITE	24688561229
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	115415804
+REDUCE	VALUE_BYTE_COUNT	6899704
+REDUCE	REDUCE_MEM	97644624
+REDUCE	WRITE	12418000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	966753928060
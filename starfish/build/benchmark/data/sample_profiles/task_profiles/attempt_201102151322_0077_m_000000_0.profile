@@ -0,0 +1,291 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt/part-00106	0
+MAP	STARTUP_MEM	213924840
+MAP	SETUP	481000
+MAP	SETUP_MEM	213924840
+SPILL	SORT_AND_SPILL	17696568000
+SPILL	QUICK_SORT	10418839000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	5860986000
+SPILL	WRITE	1062990000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11574580
+SPILL	COMPRESS_BYTE_COUNT	11574688
+SPILL	SORT_AND_SPILL	16655749000
+SPILL	QUICK_SORT	10709821000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5907555000
+SPILL	WRITE	1049786000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11217728
+SPILL	COMPRESS_BYTE_COUNT	11217836
+SPILL	SORT_AND_SPILL	17254024000
+SPILL	QUICK_SORT	10499528000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5795490000
+SPILL	WRITE	1069308000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11849188
+SPILL	COMPRESS_BYTE_COUNT	11849296
+SPILL	SORT_AND_SPILL	17857524000
+SPILL	QUICK_SORT	10908256000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	6910232000
+SPILL	WRITE	1246500000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	10975751
+SPILL	COMPRESS_BYTE_COUNT	10975859
+SPILL	SORT_AND_SPILL	18616423000
+SPILL	QUICK_SORT	12583419000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	5820990000
+SPILL	WRITE	1157405000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12021895
+SPILL	COMPRESS_BYTE_COUNT	12022003
+SPILL	SORT_AND_SPILL	17955470000
+SPILL	QUICK_SORT	11087275000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	6828545000
+SPILL	WRITE	1136397000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11854468
+SPILL	COMPRESS_BYTE_COUNT	11854576
+SPILL	SORT_AND_SPILL	16402541001
+SPILL	QUICK_SORT	9272823001
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5838264000
+SPILL	WRITE	962395000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	10137053
+SPILL	COMPRESS_BYTE_COUNT	10137161
+SPILL	SORT_AND_SPILL	16311320000
+SPILL	QUICK_SORT	10590366000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5683368000
+SPILL	WRITE	1095033000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11438306
+SPILL	COMPRESS_BYTE_COUNT	11438414
+SPILL	SORT_AND_SPILL	17261672000
+SPILL	QUICK_SORT	9542754000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	6298355000
+SPILL	WRITE	1168486000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11805715
+SPILL	COMPRESS_BYTE_COUNT	11805823
+SPILL	SORT_AND_SPILL	16099452000
+SPILL	QUICK_SORT	10172780000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	5888979000
+SPILL	WRITE	1128302000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11229367
+SPILL	COMPRESS_BYTE_COUNT	11229475
+SPILL	SORT_AND_SPILL	15834895000
+SPILL	QUICK_SORT	9673262000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5778014000
+SPILL	WRITE	1101086000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11976482
+SPILL	COMPRESS_BYTE_COUNT	11976590
+SPILL	SORT_AND_SPILL	18508621000
+SPILL	QUICK_SORT	10940118000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	7531142000
+SPILL	WRITE	1516925000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12035680
+SPILL	COMPRESS_BYTE_COUNT	12035788
+SPILL	SORT_AND_SPILL	16196485000
+SPILL	QUICK_SORT	9964607000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	6106872000
+SPILL	WRITE	1101582000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11857477
+SPILL	COMPRESS_BYTE_COUNT	11857585
+SPILL	SORT_AND_SPILL	16870033000
+SPILL	QUICK_SORT	10759964000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	6073085000
+SPILL	WRITE	1286328000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11725719
+SPILL	COMPRESS_BYTE_COUNT	11725827
+SPILL	SORT_AND_SPILL	17215403000
+SPILL	QUICK_SORT	10628265000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	6477551000
+SPILL	WRITE	1276798000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11886826
+SPILL	COMPRESS_BYTE_COUNT	11886934
+SPILL	SORT_AND_SPILL	17869739000
+SPILL	QUICK_SORT	10389587000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	7439304000
+SPILL	WRITE	1328797000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11834484
+SPILL	COMPRESS_BYTE_COUNT	11834592
+SPILL	SORT_AND_SPILL	17136250000
+SPILL	QUICK_SORT	9901601000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5939483000
+SPILL	WRITE	1112403000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12156596
+SPILL	COMPRESS_BYTE_COUNT	12156704
+SPILL	SORT_AND_SPILL	17835170000
+SPILL	QUICK_SORT	10946194000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	6847899000
+SPILL	WRITE	1221390000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11617244
+SPILL	COMPRESS_BYTE_COUNT	11617352
+SPILL	SORT_AND_SPILL	16104840000
+SPILL	QUICK_SORT	9732260000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5669905000
+SPILL	WRITE	1066130000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11615310
+SPILL	COMPRESS_BYTE_COUNT	11615418
+SPILL	SORT_AND_SPILL	16183714000
+SPILL	QUICK_SORT	10231122000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	5912543000
+SPILL	WRITE	1121103000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12237842
+SPILL	COMPRESS_BYTE_COUNT	12237950
+SPILL	SORT_AND_SPILL	18674734000
+SPILL	QUICK_SORT	10826186000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	7730753000
+SPILL	WRITE	1378835000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12105783
+SPILL	COMPRESS_BYTE_COUNT	12105891
+SPILL	SORT_AND_SPILL	13368310000
+SPILL	QUICK_SORT	9450558000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	3879993000
+SPILL	WRITE	550904000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	6348643
+SPILL	COMPRESS_BYTE_COUNT	6348751
+SPILL	SORT_AND_SPILL	12516473000
+SPILL	QUICK_SORT	8700158000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	3605956000
+SPILL	WRITE	479726000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	5884094
+SPILL	COMPRESS_BYTE_COUNT	5884202
+SPILL	SORT_AND_SPILL	13567715000
+SPILL	QUICK_SORT	9318763000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	4213504000
+SPILL	WRITE	635583000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7015826
+SPILL	COMPRESS_BYTE_COUNT	7015934
+SPILL	SORT_AND_SPILL	16259859000
+SPILL	QUICK_SORT	10902767000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	5239971000
+SPILL	WRITE	944509000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	9979398
+SPILL	COMPRESS_BYTE_COUNT	9979506
+SPILL	SORT_AND_SPILL	13578977000
+SPILL	QUICK_SORT	9395280000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	4146637000
+SPILL	WRITE	659084000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7103265
+SPILL	COMPRESS_BYTE_COUNT	7103373
+SPILL	SORT_AND_SPILL	17581104000
+SPILL	QUICK_SORT	10583304000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	6842857000
+SPILL	WRITE	913548000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	9812361
+SPILL	COMPRESS_BYTE_COUNT	9812469
+SPILL	SORT_AND_SPILL	11197236000
+SPILL	QUICK_SORT	7830528000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	3329041000
+SPILL	WRITE	401906000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	4128708
+SPILL	COMPRESS_BYTE_COUNT	4128816
+SPILL	SORT_AND_SPILL	13094022000
+SPILL	QUICK_SORT	8088355000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	3564748000
+SPILL	WRITE	457255000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	4340868
+SPILL	COMPRESS_BYTE_COUNT	4340976
+SPILL	SORT_AND_SPILL	16049691000
+SPILL	QUICK_SORT	10696232000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	5311914000
+SPILL	WRITE	912727000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	9345582
+SPILL	COMPRESS_BYTE_COUNT	9345690
+SPILL	SORT_AND_SPILL	17729797000
+SPILL	QUICK_SORT	10987267000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	6015129000
+SPILL	WRITE	1109858000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11670145
+SPILL	COMPRESS_BYTE_COUNT	11670253
+SPILL	SORT_AND_SPILL	24675939000
+SPILL	QUICK_SORT	14557583000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10079866000
+SPILL	WRITE	3393058000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11942899
+SPILL	COMPRESS_BYTE_COUNT	11943007
+MAP	CLEANUP	103000
+MAP	CLEANUP_MEM	212433616
+MAP	TOTAL_RUN	679610209001
+MAP	READ	878980000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	120876
+MAP	VALUE_BYTE_COUNT	45068801
+MAP	MAP	678655728001
+MAP	WRITE	631501133001
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	26949607000
+MAP	SERIALIZE_OUTPUT	511742892001
+MAP	MAP_MEM	212433616
+SPILL	SORT_AND_SPILL	26535439000
+SPILL	QUICK_SORT	17298758000
+SPILL	SORT_COUNT	821937
+SPILL	COMBINE	7667432000
+SPILL	WRITE	2228863000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11531820
+SPILL	COMPRESS_BYTE_COUNT	11531928
+MERGE	TOTAL_MERGE	122924270000
+MERGE	READ_WRITE	114091355000
+MERGE	READ_WRITE_COUNT	108
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	829562825001
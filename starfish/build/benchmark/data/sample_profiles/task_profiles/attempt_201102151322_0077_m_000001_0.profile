@@ -0,0 +1,283 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt/part-00102	0
+MAP	STARTUP_MEM	213966560
+MAP	SETUP	464000
+MAP	SETUP_MEM	213966560
+SPILL	SORT_AND_SPILL	17238174000
+SPILL	QUICK_SORT	11147583000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	5908377000
+SPILL	WRITE	1099205000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11966587
+SPILL	COMPRESS_BYTE_COUNT	11966695
+SPILL	SORT_AND_SPILL	16391927000
+SPILL	QUICK_SORT	10613662000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5739725000
+SPILL	WRITE	1034311000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11934405
+SPILL	COMPRESS_BYTE_COUNT	11934513
+SPILL	SORT_AND_SPILL	16556511000
+SPILL	QUICK_SORT	10342915000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5668011000
+SPILL	WRITE	1034464000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12057832
+SPILL	COMPRESS_BYTE_COUNT	12057940
+SPILL	SORT_AND_SPILL	16708301000
+SPILL	QUICK_SORT	10968519000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5702368000
+SPILL	WRITE	1038103000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11888480
+SPILL	COMPRESS_BYTE_COUNT	11888588
+SPILL	SORT_AND_SPILL	17350834000
+SPILL	QUICK_SORT	9997056000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	7257021000
+SPILL	WRITE	1775420000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12069950
+SPILL	COMPRESS_BYTE_COUNT	12070058
+SPILL	SORT_AND_SPILL	15756183000
+SPILL	QUICK_SORT	10130494000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5588078000
+SPILL	WRITE	1032868000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11636089
+SPILL	COMPRESS_BYTE_COUNT	11636197
+SPILL	SORT_AND_SPILL	17144627000
+SPILL	QUICK_SORT	10400439000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5661547000
+SPILL	WRITE	1072577000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11777669
+SPILL	COMPRESS_BYTE_COUNT	11777777
+SPILL	SORT_AND_SPILL	16848000000
+SPILL	QUICK_SORT	10070597000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	6739472000
+SPILL	WRITE	1204626000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11303795
+SPILL	COMPRESS_BYTE_COUNT	11303903
+SPILL	SORT_AND_SPILL	16258669000
+SPILL	QUICK_SORT	9853349000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5581370000
+SPILL	WRITE	1008165000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11732682
+SPILL	COMPRESS_BYTE_COUNT	11732790
+SPILL	SORT_AND_SPILL	15624326000
+SPILL	QUICK_SORT	9951305000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	5634850000
+SPILL	WRITE	1039751000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11845130
+SPILL	COMPRESS_BYTE_COUNT	11845238
+SPILL	SORT_AND_SPILL	16761931000
+SPILL	QUICK_SORT	9796501000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5865459000
+SPILL	WRITE	1014806000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11681253
+SPILL	COMPRESS_BYTE_COUNT	11681361
+SPILL	SORT_AND_SPILL	18402989000
+SPILL	QUICK_SORT	12066063000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	6295619000
+SPILL	WRITE	1154876000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11439799
+SPILL	COMPRESS_BYTE_COUNT	11439907
+SPILL	SORT_AND_SPILL	19503174000
+SPILL	QUICK_SORT	11209732000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	7797515000
+SPILL	WRITE	1484117000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12266527
+SPILL	COMPRESS_BYTE_COUNT	12266635
+SPILL	SORT_AND_SPILL	16120645000
+SPILL	QUICK_SORT	9938445000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	6134676000
+SPILL	WRITE	1228734000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11885211
+SPILL	COMPRESS_BYTE_COUNT	11885319
+SPILL	SORT_AND_SPILL	16241597000
+SPILL	QUICK_SORT	9731619000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	5669465000
+SPILL	WRITE	1043283000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11956283
+SPILL	COMPRESS_BYTE_COUNT	11956391
+SPILL	SORT_AND_SPILL	16302223000
+SPILL	QUICK_SORT	9208267000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	7054998000
+SPILL	WRITE	1029999000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	10324821
+SPILL	COMPRESS_BYTE_COUNT	10324929
+SPILL	SORT_AND_SPILL	17277071000
+SPILL	QUICK_SORT	10653019000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	6029831000
+SPILL	WRITE	1078695000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11978799
+SPILL	COMPRESS_BYTE_COUNT	11978907
+SPILL	SORT_AND_SPILL	15870177000
+SPILL	QUICK_SORT	10153781000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5665788000
+SPILL	WRITE	1012137000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11529914
+SPILL	COMPRESS_BYTE_COUNT	11530022
+SPILL	SORT_AND_SPILL	16781733000
+SPILL	QUICK_SORT	10793881000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5650289000
+SPILL	WRITE	1006382000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11787265
+SPILL	COMPRESS_BYTE_COUNT	11787373
+SPILL	SORT_AND_SPILL	16958232000
+SPILL	QUICK_SORT	11209773000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	5707728000
+SPILL	WRITE	1050945000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11560493
+SPILL	COMPRESS_BYTE_COUNT	11560601
+SPILL	SORT_AND_SPILL	16977087000
+SPILL	QUICK_SORT	11184812000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5693322000
+SPILL	WRITE	1078021000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11966885
+SPILL	COMPRESS_BYTE_COUNT	11966993
+SPILL	SORT_AND_SPILL	18335186388
+SPILL	QUICK_SORT	11403332000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	6893161388
+SPILL	WRITE	1073518000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11731495
+SPILL	COMPRESS_BYTE_COUNT	11731603
+SPILL	SORT_AND_SPILL	17314217000
+SPILL	QUICK_SORT	11277981000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5818725000
+SPILL	WRITE	1030356000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11943021
+SPILL	COMPRESS_BYTE_COUNT	11943129
+SPILL	SORT_AND_SPILL	16639656000
+SPILL	QUICK_SORT	11035813000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5564023000
+SPILL	WRITE	1055337000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11750078
+SPILL	COMPRESS_BYTE_COUNT	11750186
+SPILL	SORT_AND_SPILL	16934274000
+SPILL	QUICK_SORT	11150592000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	5683526000
+SPILL	WRITE	1043681000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12054323
+SPILL	COMPRESS_BYTE_COUNT	12054431
+SPILL	SORT_AND_SPILL	16472109000
+SPILL	QUICK_SORT	10849133000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5558721000
+SPILL	WRITE	1020485000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11722896
+SPILL	COMPRESS_BYTE_COUNT	11723004
+SPILL	SORT_AND_SPILL	19684311000
+SPILL	QUICK_SORT	12687104000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	6902427000
+SPILL	WRITE	1121522000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11965914
+SPILL	COMPRESS_BYTE_COUNT	11966022
+SPILL	SORT_AND_SPILL	16768513000
+SPILL	QUICK_SORT	10987934000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5741939000
+SPILL	WRITE	1053049000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11975326
+SPILL	COMPRESS_BYTE_COUNT	11975434
+SPILL	SORT_AND_SPILL	17159745000
+SPILL	QUICK_SORT	11037826000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5643967000
+SPILL	WRITE	1039884000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11858152
+SPILL	COMPRESS_BYTE_COUNT	11858260
+SPILL	SORT_AND_SPILL	15991294000
+SPILL	QUICK_SORT	9875280000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	6077137000
+SPILL	WRITE	1029542000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11546546
+SPILL	COMPRESS_BYTE_COUNT	11546654
+SPILL	SORT_AND_SPILL	16720175000
+SPILL	QUICK_SORT	10561060000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5815500000
+SPILL	WRITE	1054110000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11916443
+SPILL	COMPRESS_BYTE_COUNT	11916551
+MAP	CLEANUP	100000
+MAP	CLEANUP_MEM	232170936
+MAP	TOTAL_RUN	648744929388
+MAP	READ	5432327000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	135221
+MAP	VALUE_BYTE_COUNT	41656128
+MAP	MAP	643234794388
+MAP	WRITE	597546159388
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	30149343000
+MAP	SERIALIZE_OUTPUT	450385799388
+MAP	MAP_MEM	232170936
+SPILL	SORT_AND_SPILL	4728712000
+SPILL	QUICK_SORT	2583352000
+SPILL	SORT_COUNT	263280
+SPILL	COMBINE	2129717000
+SPILL	WRITE	357154000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	3727632
+SPILL	COMPRESS_BYTE_COUNT	3727740
+MERGE	TOTAL_MERGE	165041846000
+MERGE	READ_WRITE	159913405000
+MERGE	READ_WRITE_COUNT	108
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	818949909388
@@ -0,0 +1,283 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt/part-00100	0
+MAP	STARTUP_MEM	214770336
+MAP	SETUP	553000
+MAP	SETUP_MEM	214770336
+SPILL	SORT_AND_SPILL	20944422000
+SPILL	QUICK_SORT	13232932000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	7233308000
+SPILL	WRITE	1502999000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11729550
+SPILL	COMPRESS_BYTE_COUNT	11729658
+SPILL	SORT_AND_SPILL	21347796188
+SPILL	QUICK_SORT	14369677188
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	6932908000
+SPILL	WRITE	1231845000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11887602
+SPILL	COMPRESS_BYTE_COUNT	11887710
+SPILL	SORT_AND_SPILL	19542210000
+SPILL	QUICK_SORT	12577853000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	6831454000
+SPILL	WRITE	1215297000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11805660
+SPILL	COMPRESS_BYTE_COUNT	11805768
+SPILL	SORT_AND_SPILL	19973498908
+SPILL	QUICK_SORT	12716470908
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	7212662000
+SPILL	WRITE	1302748000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11707890
+SPILL	COMPRESS_BYTE_COUNT	11707998
+SPILL	SORT_AND_SPILL	19765781000
+SPILL	QUICK_SORT	10588464000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	7353386000
+SPILL	WRITE	1523362000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11677714
+SPILL	COMPRESS_BYTE_COUNT	11677822
+SPILL	SORT_AND_SPILL	19210183000
+SPILL	QUICK_SORT	11441985000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	7724981000
+SPILL	WRITE	1301653000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12010074
+SPILL	COMPRESS_BYTE_COUNT	12010182
+SPILL	SORT_AND_SPILL	20600288000
+SPILL	QUICK_SORT	13013684000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	7203085000
+SPILL	WRITE	1190174000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11791360
+SPILL	COMPRESS_BYTE_COUNT	11791468
+SPILL	SORT_AND_SPILL	19135071000
+SPILL	QUICK_SORT	11145988000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	7945251000
+SPILL	WRITE	1442488000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11886154
+SPILL	COMPRESS_BYTE_COUNT	11886262
+SPILL	SORT_AND_SPILL	22163616908
+SPILL	QUICK_SORT	11908309908
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	9554036000
+SPILL	WRITE	2267006000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12076320
+SPILL	COMPRESS_BYTE_COUNT	12076428
+SPILL	SORT_AND_SPILL	19031918000
+SPILL	QUICK_SORT	10290433000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	8693906000
+SPILL	WRITE	1640686000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11953174
+SPILL	COMPRESS_BYTE_COUNT	11953282
+SPILL	SORT_AND_SPILL	20543017604
+SPILL	QUICK_SORT	11676293000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	8598168604
+SPILL	WRITE	1866178000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11950307
+SPILL	COMPRESS_BYTE_COUNT	11950415
+SPILL	SORT_AND_SPILL	19646576000
+SPILL	QUICK_SORT	12321475000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	7274870000
+SPILL	WRITE	1188099000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11822334
+SPILL	COMPRESS_BYTE_COUNT	11822442
+SPILL	SORT_AND_SPILL	19550100000
+SPILL	QUICK_SORT	10283876000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	9122296000
+SPILL	WRITE	1791297000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12080247
+SPILL	COMPRESS_BYTE_COUNT	12080355
+SPILL	SORT_AND_SPILL	19129886755
+SPILL	QUICK_SORT	10991201755
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	8093262000
+SPILL	WRITE	1613868000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11875795
+SPILL	COMPRESS_BYTE_COUNT	11875903
+SPILL	SORT_AND_SPILL	19653923000
+SPILL	QUICK_SORT	10529720000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	8833432000
+SPILL	WRITE	2001455000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12078235
+SPILL	COMPRESS_BYTE_COUNT	12078343
+SPILL	SORT_AND_SPILL	18542530756
+SPILL	QUICK_SORT	10208913000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	8286489756
+SPILL	WRITE	1559961000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11622504
+SPILL	COMPRESS_BYTE_COUNT	11622612
+SPILL	SORT_AND_SPILL	19980027000
+SPILL	QUICK_SORT	11229227000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	8507579000
+SPILL	WRITE	1643817000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11925749
+SPILL	COMPRESS_BYTE_COUNT	11925857
+SPILL	SORT_AND_SPILL	20894842000
+SPILL	QUICK_SORT	13137251000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	7711521000
+SPILL	WRITE	1301730000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11920148
+SPILL	COMPRESS_BYTE_COUNT	11920256
+SPILL	SORT_AND_SPILL	18078222000
+SPILL	QUICK_SORT	10949062000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	6869804000
+SPILL	WRITE	1232047000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11763067
+SPILL	COMPRESS_BYTE_COUNT	11763175
+SPILL	SORT_AND_SPILL	19322863000
+SPILL	QUICK_SORT	12076751000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	7198121000
+SPILL	WRITE	1321989000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11865799
+SPILL	COMPRESS_BYTE_COUNT	11865907
+SPILL	SORT_AND_SPILL	17458332756
+SPILL	QUICK_SORT	10406961756
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	6749663000
+SPILL	WRITE	1116036000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11386278
+SPILL	COMPRESS_BYTE_COUNT	11386386
+SPILL	SORT_AND_SPILL	18958388000
+SPILL	QUICK_SORT	10501511000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	8410109000
+SPILL	WRITE	1348100000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12049472
+SPILL	COMPRESS_BYTE_COUNT	12049580
+SPILL	SORT_AND_SPILL	18280513000
+SPILL	QUICK_SORT	10610002000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	7514710000
+SPILL	WRITE	1288319000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11804834
+SPILL	COMPRESS_BYTE_COUNT	11804942
+SPILL	SORT_AND_SPILL	20123559000
+SPILL	QUICK_SORT	10988143000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	9091435000
+SPILL	WRITE	1897947000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12080754
+SPILL	COMPRESS_BYTE_COUNT	12080862
+SPILL	SORT_AND_SPILL	21376367000
+SPILL	QUICK_SORT	12881538000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	7985743000
+SPILL	WRITE	1528994000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11413023
+SPILL	COMPRESS_BYTE_COUNT	11413131
+SPILL	SORT_AND_SPILL	21170505908
+SPILL	QUICK_SORT	12147712908
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	8977608000
+SPILL	WRITE	1723230000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11213984
+SPILL	COMPRESS_BYTE_COUNT	11214092
+SPILL	SORT_AND_SPILL	25888025000
+SPILL	QUICK_SORT	16721751000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	7426133000
+SPILL	WRITE	1454793000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12083069
+SPILL	COMPRESS_BYTE_COUNT	12083177
+SPILL	SORT_AND_SPILL	23164360604
+SPILL	QUICK_SORT	13210160604
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	9424607000
+SPILL	WRITE	1706588000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11916099
+SPILL	COMPRESS_BYTE_COUNT	11916207
+SPILL	SORT_AND_SPILL	23172212000
+SPILL	QUICK_SORT	14052342000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	9075731000
+SPILL	WRITE	1703825000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12213715
+SPILL	COMPRESS_BYTE_COUNT	12213823
+SPILL	SORT_AND_SPILL	20802338755
+SPILL	QUICK_SORT	11999657755
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	8298482000
+SPILL	WRITE	1657727000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11390554
+SPILL	COMPRESS_BYTE_COUNT	11390662
+MAP	CLEANUP	218000
+MAP	CLEANUP_MEM	212362664
+MAP	TOTAL_RUN	777911361258
+MAP	READ	1810112000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	135832
+MAP	VALUE_BYTE_COUNT	41636842
+MAP	MAP	776002215258
+MAP	WRITE	717582258070
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	48017960604
+MAP	SERIALIZE_OUTPUT	534890914466
+MAP	MAP_MEM	212362664
+SPILL	SORT_AND_SPILL	21569220000
+SPILL	QUICK_SORT	11713799000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	9808983000
+SPILL	WRITE	2331784000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11332124
+SPILL	COMPRESS_BYTE_COUNT	11332232
+SPILL	SORT_AND_SPILL	4038627000
+SPILL	QUICK_SORT	1787423000
+SPILL	SORT_COUNT	151618
+SPILL	COMBINE	1880692000
+SPILL	WRITE	457600000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	2384082
+SPILL	COMPRESS_BYTE_COUNT	2384190
+MERGE	TOTAL_MERGE	181001735420
+MERGE	READ_WRITE	174816949420
+MERGE	READ_WRITE_COUNT	108
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	982362690678
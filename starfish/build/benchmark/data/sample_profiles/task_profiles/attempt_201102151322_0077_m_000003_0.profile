@@ -0,0 +1,275 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt/part-00105	0
+MAP	STARTUP_MEM	214772824
+MAP	SETUP	544000
+MAP	SETUP_MEM	214772824
+SPILL	SORT_AND_SPILL	19542870000
+SPILL	QUICK_SORT	12053791000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	7350395000
+SPILL	WRITE	1402645000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11841568
+SPILL	COMPRESS_BYTE_COUNT	11841676
+SPILL	SORT_AND_SPILL	19005858000
+SPILL	QUICK_SORT	11828487000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	7087336000
+SPILL	WRITE	1301846000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12119422
+SPILL	COMPRESS_BYTE_COUNT	12119530
+SPILL	SORT_AND_SPILL	19717376000
+SPILL	QUICK_SORT	12081285000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	7491720000
+SPILL	WRITE	1427323000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11942550
+SPILL	COMPRESS_BYTE_COUNT	11942658
+SPILL	SORT_AND_SPILL	19370365101
+SPILL	QUICK_SORT	12270587101
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	7060556000
+SPILL	WRITE	1394531000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12075685
+SPILL	COMPRESS_BYTE_COUNT	12075793
+SPILL	SORT_AND_SPILL	19006663000
+SPILL	QUICK_SORT	11274992000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	7483134000
+SPILL	WRITE	1242871000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12086914
+SPILL	COMPRESS_BYTE_COUNT	12087022
+SPILL	SORT_AND_SPILL	17923669000
+SPILL	QUICK_SORT	10396316000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	7485735000
+SPILL	WRITE	1344001000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11941073
+SPILL	COMPRESS_BYTE_COUNT	11941181
+SPILL	SORT_AND_SPILL	17743519000
+SPILL	QUICK_SORT	10571201000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	6988872000
+SPILL	WRITE	1258674000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12060375
+SPILL	COMPRESS_BYTE_COUNT	12060483
+SPILL	SORT_AND_SPILL	19096366000
+SPILL	QUICK_SORT	11962818000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	7072274000
+SPILL	WRITE	1286308000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12078164
+SPILL	COMPRESS_BYTE_COUNT	12078272
+SPILL	SORT_AND_SPILL	18469900101
+SPILL	QUICK_SORT	10064049000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	8309661101
+SPILL	WRITE	1302901000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11313846
+SPILL	COMPRESS_BYTE_COUNT	11313954
+SPILL	SORT_AND_SPILL	20325402000
+SPILL	QUICK_SORT	10930210000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	9354427000
+SPILL	WRITE	1948499000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11810867
+SPILL	COMPRESS_BYTE_COUNT	11810975
+SPILL	SORT_AND_SPILL	17856322000
+SPILL	QUICK_SORT	10621203000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	7133713000
+SPILL	WRITE	1348988000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12044230
+SPILL	COMPRESS_BYTE_COUNT	12044338
+SPILL	SORT_AND_SPILL	19136646101
+SPILL	QUICK_SORT	10366595101
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	8729438000
+SPILL	WRITE	1721034000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12248560
+SPILL	COMPRESS_BYTE_COUNT	12248668
+SPILL	SORT_AND_SPILL	19400556000
+SPILL	QUICK_SORT	10097438000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	7367717000
+SPILL	WRITE	1297210000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12478763
+SPILL	COMPRESS_BYTE_COUNT	12478871
+SPILL	SORT_AND_SPILL	20739310102
+SPILL	QUICK_SORT	11593527000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	9105288102
+SPILL	WRITE	1533716000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12017205
+SPILL	COMPRESS_BYTE_COUNT	12017313
+SPILL	SORT_AND_SPILL	18269830000
+SPILL	QUICK_SORT	9916052000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	8257421000
+SPILL	WRITE	1423285000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11668968
+SPILL	COMPRESS_BYTE_COUNT	11669076
+SPILL	SORT_AND_SPILL	19448364000
+SPILL	QUICK_SORT	10840528000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	8568176000
+SPILL	WRITE	1242704000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11549014
+SPILL	COMPRESS_BYTE_COUNT	11549122
+SPILL	SORT_AND_SPILL	19514409000
+SPILL	QUICK_SORT	9719545000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	8643310000
+SPILL	WRITE	1602853000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11723459
+SPILL	COMPRESS_BYTE_COUNT	11723567
+SPILL	SORT_AND_SPILL	18397223000
+SPILL	QUICK_SORT	11540473000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	6817950000
+SPILL	WRITE	1253626000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11796227
+SPILL	COMPRESS_BYTE_COUNT	11796335
+SPILL	SORT_AND_SPILL	17831139101
+SPILL	QUICK_SORT	10247101000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	7481680101
+SPILL	WRITE	1452540000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11917370
+SPILL	COMPRESS_BYTE_COUNT	11917478
+SPILL	SORT_AND_SPILL	21117305000
+SPILL	QUICK_SORT	11800200000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	9233587000
+SPILL	WRITE	1617146000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11932190
+SPILL	COMPRESS_BYTE_COUNT	11932298
+SPILL	SORT_AND_SPILL	18471926000
+SPILL	QUICK_SORT	10789771000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	7285585000
+SPILL	WRITE	1324821000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11971485
+SPILL	COMPRESS_BYTE_COUNT	11971593
+SPILL	SORT_AND_SPILL	21274486000
+SPILL	QUICK_SORT	13346694000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	7888803000
+SPILL	WRITE	1474232000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11735939
+SPILL	COMPRESS_BYTE_COUNT	11736047
+SPILL	SORT_AND_SPILL	18952547000
+SPILL	QUICK_SORT	10864655000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	7793466000
+SPILL	WRITE	1399054000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11771737
+SPILL	COMPRESS_BYTE_COUNT	11771845
+SPILL	SORT_AND_SPILL	20621172101
+SPILL	QUICK_SORT	11853241101
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	8727580000
+SPILL	WRITE	1816718000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11856350
+SPILL	COMPRESS_BYTE_COUNT	11856458
+SPILL	SORT_AND_SPILL	20562921000
+SPILL	QUICK_SORT	10468127000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	7497805000
+SPILL	WRITE	1245922000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11284854
+SPILL	COMPRESS_BYTE_COUNT	11284962
+SPILL	SORT_AND_SPILL	17978482101
+SPILL	QUICK_SORT	11071796101
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	6869305000
+SPILL	WRITE	1265174000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11998105
+SPILL	COMPRESS_BYTE_COUNT	11998213
+SPILL	SORT_AND_SPILL	18918087000
+SPILL	QUICK_SORT	11340799000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	7423895000
+SPILL	WRITE	1249579000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12092242
+SPILL	COMPRESS_BYTE_COUNT	12092350
+SPILL	SORT_AND_SPILL	26759979101
+SPILL	QUICK_SORT	11636522000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	15084149101
+SPILL	WRITE	2169559000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11904314
+SPILL	COMPRESS_BYTE_COUNT	11904422
+SPILL	SORT_AND_SPILL	22007527000
+SPILL	QUICK_SORT	11077617000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10452167000
+SPILL	WRITE	1476655000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	10680210
+SPILL	COMPRESS_BYTE_COUNT	10680318
+SPILL	SORT_AND_SPILL	24237739243
+SPILL	QUICK_SORT	14248360243
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	9650916000
+SPILL	WRITE	1720032000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12118116
+SPILL	COMPRESS_BYTE_COUNT	12118224
+MAP	CLEANUP	69000
+MAP	CLEANUP_MEM	250141816
+MAP	TOTAL_RUN	761214244800
+MAP	READ	839069000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	128407
+MAP	VALUE_BYTE_COUNT	40556197
+MAP	MAP	760260263800
+MAP	WRITE	704755103800
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	40358194202
+MAP	SERIALIZE_OUTPUT	539576303295
+MAP	MAP_MEM	250141816
+SPILL	SORT_AND_SPILL	9886158000
+SPILL	QUICK_SORT	4803888000
+SPILL	SORT_COUNT	309881
+SPILL	COMBINE	5064770000
+SPILL	WRITE	779302000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	4679158
+SPILL	COMPRESS_BYTE_COUNT	4679266
+MERGE	TOTAL_MERGE	255705775405
+MERGE	READ_WRITE	245231645303
+MERGE	READ_WRITE_COUNT	108
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	1027335061205
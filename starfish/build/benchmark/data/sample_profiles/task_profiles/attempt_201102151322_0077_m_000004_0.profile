@@ -0,0 +1,275 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt/part-00109	0
+MAP	STARTUP_MEM	214828080
+MAP	SETUP	570000
+MAP	SETUP_MEM	214828080
+SPILL	SORT_AND_SPILL	21007656000
+SPILL	QUICK_SORT	14871692000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	5951402000
+SPILL	WRITE	1047603000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11564546
+SPILL	COMPRESS_BYTE_COUNT	11564654
+SPILL	SORT_AND_SPILL	20209594000
+SPILL	QUICK_SORT	14194412000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5963349000
+SPILL	WRITE	1073856000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11710510
+SPILL	COMPRESS_BYTE_COUNT	11710618
+SPILL	SORT_AND_SPILL	20297614000
+SPILL	QUICK_SORT	13663084000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	6013023000
+SPILL	WRITE	1132088000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11923829
+SPILL	COMPRESS_BYTE_COUNT	11923937
+SPILL	SORT_AND_SPILL	21841883000
+SPILL	QUICK_SORT	15713302000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	6076938000
+SPILL	WRITE	1120883000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11991079
+SPILL	COMPRESS_BYTE_COUNT	11991187
+SPILL	SORT_AND_SPILL	20410839000
+SPILL	QUICK_SORT	14083125000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	6186964000
+SPILL	WRITE	1120038000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11884593
+SPILL	COMPRESS_BYTE_COUNT	11884701
+SPILL	SORT_AND_SPILL	19810640000
+SPILL	QUICK_SORT	13515371000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	6238263000
+SPILL	WRITE	1163366000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12022382
+SPILL	COMPRESS_BYTE_COUNT	12022490
+SPILL	SORT_AND_SPILL	21618360200
+SPILL	QUICK_SORT	14251634200
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	6102018000
+SPILL	WRITE	1086660000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12157157
+SPILL	COMPRESS_BYTE_COUNT	12157265
+SPILL	SORT_AND_SPILL	18965116000
+SPILL	QUICK_SORT	11781518000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	7116514000
+SPILL	WRITE	1270039000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	9080885
+SPILL	COMPRESS_BYTE_COUNT	9080993
+SPILL	SORT_AND_SPILL	17393899000
+SPILL	QUICK_SORT	12511162000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	4761904000
+SPILL	WRITE	647762000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7264172
+SPILL	COMPRESS_BYTE_COUNT	7264280
+SPILL	SORT_AND_SPILL	17964215000
+SPILL	QUICK_SORT	11766124000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	6140339000
+SPILL	WRITE	1020960000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	10696472
+SPILL	COMPRESS_BYTE_COUNT	10696580
+SPILL	SORT_AND_SPILL	16770902000
+SPILL	QUICK_SORT	12012349000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	4560273000
+SPILL	WRITE	692154000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7460219
+SPILL	COMPRESS_BYTE_COUNT	7460327
+SPILL	SORT_AND_SPILL	20027367000
+SPILL	QUICK_SORT	13430400000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	6543624000
+SPILL	WRITE	1102141000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12152885
+SPILL	COMPRESS_BYTE_COUNT	12152993
+SPILL	SORT_AND_SPILL	21449098000
+SPILL	QUICK_SORT	12711415000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	7710654000
+SPILL	WRITE	1648533000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11976440
+SPILL	COMPRESS_BYTE_COUNT	11976548
+SPILL	SORT_AND_SPILL	19653953000
+SPILL	QUICK_SORT	11960244000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	7637215000
+SPILL	WRITE	1273719000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11991094
+SPILL	COMPRESS_BYTE_COUNT	11991202
+SPILL	SORT_AND_SPILL	21256360000
+SPILL	QUICK_SORT	12897356000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	6870992000
+SPILL	WRITE	1129279000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11725687
+SPILL	COMPRESS_BYTE_COUNT	11725795
+SPILL	SORT_AND_SPILL	22213472000
+SPILL	QUICK_SORT	15899549000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	6246881000
+SPILL	WRITE	1078681000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11858342
+SPILL	COMPRESS_BYTE_COUNT	11858450
+SPILL	SORT_AND_SPILL	19454605000
+SPILL	QUICK_SORT	13265182000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	6057182000
+SPILL	WRITE	1000220000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	10840686
+SPILL	COMPRESS_BYTE_COUNT	10840794
+SPILL	SORT_AND_SPILL	19718464000
+SPILL	QUICK_SORT	13089822000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	6572750000
+SPILL	WRITE	1024613000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11908407
+SPILL	COMPRESS_BYTE_COUNT	11908515
+SPILL	SORT_AND_SPILL	20628217000
+SPILL	QUICK_SORT	13602603000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	6459268000
+SPILL	WRITE	1109934000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11637944
+SPILL	COMPRESS_BYTE_COUNT	11638052
+SPILL	SORT_AND_SPILL	16679053000
+SPILL	QUICK_SORT	11058560000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	5562428000
+SPILL	WRITE	903197000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	10129402
+SPILL	COMPRESS_BYTE_COUNT	10129510
+SPILL	SORT_AND_SPILL	19144775000
+SPILL	QUICK_SORT	12457925000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	6254004000
+SPILL	WRITE	1101430000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11688005
+SPILL	COMPRESS_BYTE_COUNT	11688113
+SPILL	SORT_AND_SPILL	20277754000
+SPILL	QUICK_SORT	13178790000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	7043229000
+SPILL	WRITE	1224290000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11801057
+SPILL	COMPRESS_BYTE_COUNT	11801165
+SPILL	SORT_AND_SPILL	20417027000
+SPILL	QUICK_SORT	13760022000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	6250923000
+SPILL	WRITE	1072595000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11500505
+SPILL	COMPRESS_BYTE_COUNT	11500613
+SPILL	SORT_AND_SPILL	20898133000
+SPILL	QUICK_SORT	13651696000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	7184185000
+SPILL	WRITE	1389560000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11789831
+SPILL	COMPRESS_BYTE_COUNT	11789939
+SPILL	SORT_AND_SPILL	19348633000
+SPILL	QUICK_SORT	12140280000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	6735399000
+SPILL	WRITE	1324050000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12163910
+SPILL	COMPRESS_BYTE_COUNT	12164018
+SPILL	SORT_AND_SPILL	20781158000
+SPILL	QUICK_SORT	14346567000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	6377853000
+SPILL	WRITE	1142782000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11470576
+SPILL	COMPRESS_BYTE_COUNT	11470684
+SPILL	SORT_AND_SPILL	21227862000
+SPILL	QUICK_SORT	14085812000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	6156519000
+SPILL	WRITE	1026363000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11976852
+SPILL	COMPRESS_BYTE_COUNT	11976960
+SPILL	SORT_AND_SPILL	21513187000
+SPILL	QUICK_SORT	15649958000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5811728000
+SPILL	WRITE	1005908000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11608818
+SPILL	COMPRESS_BYTE_COUNT	11608926
+SPILL	SORT_AND_SPILL	23573283000
+SPILL	QUICK_SORT	14079763000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	8146403000
+SPILL	WRITE	1578907000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11619380
+SPILL	COMPRESS_BYTE_COUNT	11619488
+MAP	CLEANUP	87000
+MAP	CLEANUP_MEM	231221704
+MAP	TOTAL_RUN	716770262200
+MAP	READ	1556374000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	135593
+MAP	VALUE_BYTE_COUNT	40490849
+MAP	MAP	715119873200
+MAP	WRITE	667000612200
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	33387985000
+MAP	SERIALIZE_OUTPUT	518079902200
+MAP	MAP_MEM	231221704
+SPILL	SORT_AND_SPILL	28178554000
+SPILL	QUICK_SORT	16504346000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	11621840000
+SPILL	WRITE	1717417000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11673881
+SPILL	COMPRESS_BYTE_COUNT	11673989
+SPILL	SORT_AND_SPILL	595587000
+SPILL	QUICK_SORT	143698000
+SPILL	SORT_COUNT	27719
+SPILL	COMBINE	386451000
+SPILL	WRITE	43868000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	489154
+SPILL	COMPRESS_BYTE_COUNT	489262
+MERGE	TOTAL_MERGE	127833847000
+MERGE	READ_WRITE	122210282000
+MERGE	READ_WRITE_COUNT	108
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	872745095200
@@ -0,0 +1,267 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt/part-00104	0
+MAP	STARTUP_MEM	214825792
+MAP	SETUP	566000
+MAP	SETUP_MEM	214825792
+SPILL	SORT_AND_SPILL	20816708000
+SPILL	QUICK_SORT	12981196000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	7687182000
+SPILL	WRITE	1223364000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12049336
+SPILL	COMPRESS_BYTE_COUNT	12049444
+SPILL	SORT_AND_SPILL	20190089553
+SPILL	QUICK_SORT	13159763553
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	6987355000
+SPILL	WRITE	1198316000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11945655
+SPILL	COMPRESS_BYTE_COUNT	11945763
+SPILL	SORT_AND_SPILL	19987607000
+SPILL	QUICK_SORT	12310868000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	6921871000
+SPILL	WRITE	1282666000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11688451
+SPILL	COMPRESS_BYTE_COUNT	11688559
+SPILL	SORT_AND_SPILL	20080916642
+SPILL	QUICK_SORT	13055850642
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	6980290000
+SPILL	WRITE	1235905000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11649047
+SPILL	COMPRESS_BYTE_COUNT	11649155
+SPILL	SORT_AND_SPILL	20047769000
+SPILL	QUICK_SORT	12442114000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	7181179000
+SPILL	WRITE	1460859000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12001738
+SPILL	COMPRESS_BYTE_COUNT	12001846
+SPILL	SORT_AND_SPILL	18777085490
+SPILL	QUICK_SORT	10989998000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	7745237490
+SPILL	WRITE	1295792000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11912762
+SPILL	COMPRESS_BYTE_COUNT	11912870
+SPILL	SORT_AND_SPILL	19491369000
+SPILL	QUICK_SORT	11890494000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	7021113000
+SPILL	WRITE	1382533000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11717794
+SPILL	COMPRESS_BYTE_COUNT	11717902
+SPILL	SORT_AND_SPILL	19118225000
+SPILL	QUICK_SORT	12034016000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	7041170000
+SPILL	WRITE	1256587000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11941602
+SPILL	COMPRESS_BYTE_COUNT	11941710
+SPILL	SORT_AND_SPILL	20068296793
+SPILL	QUICK_SORT	11552566793
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	7542298000
+SPILL	WRITE	1497838000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11883838
+SPILL	COMPRESS_BYTE_COUNT	11883946
+SPILL	SORT_AND_SPILL	19534133000
+SPILL	QUICK_SORT	11334131000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	8155165000
+SPILL	WRITE	1705738000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11847716
+SPILL	COMPRESS_BYTE_COUNT	11847824
+SPILL	SORT_AND_SPILL	20490959490
+SPILL	QUICK_SORT	10590962000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	8362467490
+SPILL	WRITE	1473156000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11842080
+SPILL	COMPRESS_BYTE_COUNT	11842188
+SPILL	SORT_AND_SPILL	21815760000
+SPILL	QUICK_SORT	13239710000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	8528394000
+SPILL	WRITE	1738402000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11877710
+SPILL	COMPRESS_BYTE_COUNT	11877818
+SPILL	SORT_AND_SPILL	17399667000
+SPILL	QUICK_SORT	10207983000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	7059496000
+SPILL	WRITE	1118759000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11638020
+SPILL	COMPRESS_BYTE_COUNT	11638128
+SPILL	SORT_AND_SPILL	19137628000
+SPILL	QUICK_SORT	10286815000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	8650458000
+SPILL	WRITE	1566405000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11931935
+SPILL	COMPRESS_BYTE_COUNT	11932043
+SPILL	SORT_AND_SPILL	19175303000
+SPILL	QUICK_SORT	10580670000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	8091412000
+SPILL	WRITE	1689609000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11794982
+SPILL	COMPRESS_BYTE_COUNT	11795090
+SPILL	SORT_AND_SPILL	19303936642
+SPILL	QUICK_SORT	11909685642
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	7349086000
+SPILL	WRITE	1362262000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12108947
+SPILL	COMPRESS_BYTE_COUNT	12109055
+SPILL	SORT_AND_SPILL	18660432000
+SPILL	QUICK_SORT	10630010000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	7916295000
+SPILL	WRITE	1495812000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11955231
+SPILL	COMPRESS_BYTE_COUNT	11955339
+SPILL	SORT_AND_SPILL	19836012642
+SPILL	QUICK_SORT	11429933000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	8362846642
+SPILL	WRITE	1679108000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12287674
+SPILL	COMPRESS_BYTE_COUNT	12287782
+SPILL	SORT_AND_SPILL	18029805000
+SPILL	QUICK_SORT	10807908000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	6819712000
+SPILL	WRITE	1178155000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12032552
+SPILL	COMPRESS_BYTE_COUNT	12032660
+SPILL	SORT_AND_SPILL	17954199000
+SPILL	QUICK_SORT	10644799000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	7265984000
+SPILL	WRITE	1400312000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	10291875
+SPILL	COMPRESS_BYTE_COUNT	10291983
+SPILL	SORT_AND_SPILL	20101393793
+SPILL	QUICK_SORT	11724923793
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	8241949000
+SPILL	WRITE	1439962000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11951776
+SPILL	COMPRESS_BYTE_COUNT	11951884
+SPILL	SORT_AND_SPILL	24160791000
+SPILL	QUICK_SORT	15213832000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	8898073000
+SPILL	WRITE	2350278000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11952927
+SPILL	COMPRESS_BYTE_COUNT	11953035
+SPILL	SORT_AND_SPILL	20289277642
+SPILL	QUICK_SORT	11542159642
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	8461178000
+SPILL	WRITE	1516809000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11629054
+SPILL	COMPRESS_BYTE_COUNT	11629162
+SPILL	SORT_AND_SPILL	24376668000
+SPILL	QUICK_SORT	16682756000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	7651159000
+SPILL	WRITE	1232837000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12072299
+SPILL	COMPRESS_BYTE_COUNT	12072407
+SPILL	SORT_AND_SPILL	23237949641
+SPILL	QUICK_SORT	13270972000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	9367185641
+SPILL	WRITE	1396080000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11750563
+SPILL	COMPRESS_BYTE_COUNT	11750671
+SPILL	SORT_AND_SPILL	24342804000
+SPILL	QUICK_SORT	10580648000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	13718877000
+SPILL	WRITE	3281935000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11530345
+SPILL	COMPRESS_BYTE_COUNT	11530453
+SPILL	SORT_AND_SPILL	22059331490
+SPILL	QUICK_SORT	11388161000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10214318490
+SPILL	WRITE	1627992000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11894952
+SPILL	COMPRESS_BYTE_COUNT	11895060
+SPILL	SORT_AND_SPILL	29913569000
+SPILL	QUICK_SORT	12863012000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	16904283000
+SPILL	WRITE	3936447000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11749239
+SPILL	COMPRESS_BYTE_COUNT	11749347
+SPILL	SORT_AND_SPILL	20752156000
+SPILL	QUICK_SORT	11797442000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	8432814000
+SPILL	WRITE	1983935000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11746429
+SPILL	COMPRESS_BYTE_COUNT	11746537
+MAP	CLEANUP	49000
+MAP	CLEANUP_MEM	281060128
+MAP	TOTAL_RUN	772504610706
+MAP	READ	1763676000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	131690
+MAP	VALUE_BYTE_COUNT	39756738
+MAP	MAP	770581907706
+MAP	WRITE	718465489706
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	47257689729
+MAP	SERIALIZE_OUTPUT	523851054830
+MAP	MAP_MEM	281060128
+SPILL	SORT_AND_SPILL	22462607000
+SPILL	QUICK_SORT	13004455000
+SPILL	SORT_COUNT	628083
+SPILL	COMBINE	9424405000
+SPILL	WRITE	2225605000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	8934899
+SPILL	COMPRESS_BYTE_COUNT	8935007
+MERGE	TOTAL_MERGE	158683761998
+MERGE	READ_WRITE	153738939998
+MERGE	READ_WRITE_COUNT	108
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	954135701704
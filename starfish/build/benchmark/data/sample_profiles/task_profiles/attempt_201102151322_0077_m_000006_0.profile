@@ -0,0 +1,267 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt/part-00101	0
+MAP	STARTUP_MEM	214772536
+MAP	SETUP	768000
+MAP	SETUP_MEM	214772536
+SPILL	SORT_AND_SPILL	21747082000
+SPILL	QUICK_SORT	15098189000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	6455574000
+SPILL	WRITE	1097309000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11902106
+SPILL	COMPRESS_BYTE_COUNT	11902214
+SPILL	SORT_AND_SPILL	20642484000
+SPILL	QUICK_SORT	14612773000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5946905000
+SPILL	WRITE	1004722000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11915690
+SPILL	COMPRESS_BYTE_COUNT	11915798
+SPILL	SORT_AND_SPILL	20678410000
+SPILL	QUICK_SORT	14392480000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	6133028000
+SPILL	WRITE	1149296000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12155304
+SPILL	COMPRESS_BYTE_COUNT	12155412
+SPILL	SORT_AND_SPILL	21452816000
+SPILL	QUICK_SORT	15558911000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5845565000
+SPILL	WRITE	1030494000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11785230
+SPILL	COMPRESS_BYTE_COUNT	11785338
+SPILL	SORT_AND_SPILL	21611834000
+SPILL	QUICK_SORT	14049531000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	6328696000
+SPILL	WRITE	1107170000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11911364
+SPILL	COMPRESS_BYTE_COUNT	11911472
+SPILL	SORT_AND_SPILL	19692953000
+SPILL	QUICK_SORT	13659200000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5955508000
+SPILL	WRITE	1041307000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11892325
+SPILL	COMPRESS_BYTE_COUNT	11892433
+SPILL	SORT_AND_SPILL	21815837200
+SPILL	QUICK_SORT	14134138200
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	6070725000
+SPILL	WRITE	1102524000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11889185
+SPILL	COMPRESS_BYTE_COUNT	11889293
+SPILL	SORT_AND_SPILL	20214564000
+SPILL	QUICK_SORT	13817982000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	6344084000
+SPILL	WRITE	1210901000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12081974
+SPILL	COMPRESS_BYTE_COUNT	12082082
+SPILL	SORT_AND_SPILL	20762911000
+SPILL	QUICK_SORT	13261783000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	7373452000
+SPILL	WRITE	1208942000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	10572894
+SPILL	COMPRESS_BYTE_COUNT	10573002
+SPILL	SORT_AND_SPILL	19530476000
+SPILL	QUICK_SORT	13234509000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	6238950000
+SPILL	WRITE	1099152000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11780839
+SPILL	COMPRESS_BYTE_COUNT	11780947
+SPILL	SORT_AND_SPILL	22034311000
+SPILL	QUICK_SORT	13810779000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	8096887000
+SPILL	WRITE	1340173000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11959207
+SPILL	COMPRESS_BYTE_COUNT	11959315
+SPILL	SORT_AND_SPILL	19906616000
+SPILL	QUICK_SORT	13687141000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	6157931000
+SPILL	WRITE	1096719000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12013469
+SPILL	COMPRESS_BYTE_COUNT	12013577
+SPILL	SORT_AND_SPILL	19259720000
+SPILL	QUICK_SORT	12940858000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	6143345000
+SPILL	WRITE	1098050000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11760477
+SPILL	COMPRESS_BYTE_COUNT	11760585
+SPILL	SORT_AND_SPILL	18219648000
+SPILL	QUICK_SORT	11947784000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	6179966000
+SPILL	WRITE	1069159000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11618765
+SPILL	COMPRESS_BYTE_COUNT	11618873
+SPILL	SORT_AND_SPILL	19321891000
+SPILL	QUICK_SORT	12858236000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	6146487000
+SPILL	WRITE	1078657000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11764470
+SPILL	COMPRESS_BYTE_COUNT	11764578
+SPILL	SORT_AND_SPILL	19242346000
+SPILL	QUICK_SORT	12880572000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	6309983000
+SPILL	WRITE	1210804000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11799709
+SPILL	COMPRESS_BYTE_COUNT	11799817
+SPILL	SORT_AND_SPILL	20905612000
+SPILL	QUICK_SORT	14119829000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	6655794000
+SPILL	WRITE	1155757000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12382476
+SPILL	COMPRESS_BYTE_COUNT	12382584
+SPILL	SORT_AND_SPILL	19074970000
+SPILL	QUICK_SORT	12839671000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	6183081000
+SPILL	WRITE	1031794000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11420041
+SPILL	COMPRESS_BYTE_COUNT	11420149
+SPILL	SORT_AND_SPILL	21005538000
+SPILL	QUICK_SORT	13916350000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	6687407000
+SPILL	WRITE	1183681000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12042173
+SPILL	COMPRESS_BYTE_COUNT	12042281
+SPILL	SORT_AND_SPILL	21763804000
+SPILL	QUICK_SORT	13933056000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	7729362000
+SPILL	WRITE	1170361000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11915084
+SPILL	COMPRESS_BYTE_COUNT	11915192
+SPILL	SORT_AND_SPILL	20877350000
+SPILL	QUICK_SORT	13200540000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	6254709000
+SPILL	WRITE	1080491000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11462670
+SPILL	COMPRESS_BYTE_COUNT	11462778
+SPILL	SORT_AND_SPILL	18638065000
+SPILL	QUICK_SORT	12334791000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	6242591000
+SPILL	WRITE	1049429000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11807484
+SPILL	COMPRESS_BYTE_COUNT	11807592
+SPILL	SORT_AND_SPILL	20279454000
+SPILL	QUICK_SORT	13116483000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	6669410000
+SPILL	WRITE	1132052000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12099649
+SPILL	COMPRESS_BYTE_COUNT	12099757
+SPILL	SORT_AND_SPILL	23578147000
+SPILL	QUICK_SORT	16189810000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	7325411000
+SPILL	WRITE	1055279000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11848095
+SPILL	COMPRESS_BYTE_COUNT	11848203
+SPILL	SORT_AND_SPILL	20698745000
+SPILL	QUICK_SORT	13221503000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	6679035000
+SPILL	WRITE	1082741000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11923440
+SPILL	COMPRESS_BYTE_COUNT	11923548
+SPILL	SORT_AND_SPILL	23192402000
+SPILL	QUICK_SORT	13111174000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10028580000
+SPILL	WRITE	4207757000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11830362
+SPILL	COMPRESS_BYTE_COUNT	11830470
+SPILL	SORT_AND_SPILL	23230526000
+SPILL	QUICK_SORT	13538926000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	9124063000
+SPILL	WRITE	1135416000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11933546
+SPILL	COMPRESS_BYTE_COUNT	11933654
+SPILL	SORT_AND_SPILL	22890220000
+SPILL	QUICK_SORT	14278362000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	8550402000
+SPILL	WRITE	1151409000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11819922
+SPILL	COMPRESS_BYTE_COUNT	11820030
+SPILL	SORT_AND_SPILL	22927261000
+SPILL	QUICK_SORT	15103467000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	6185744000
+SPILL	WRITE	1056518000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11882750
+SPILL	COMPRESS_BYTE_COUNT	11882858
+MAP	CLEANUP	124000
+MAP	CLEANUP_MEM	248144080
+MAP	TOTAL_RUN	739782307200
+MAP	READ	1059441000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	128434
+MAP	VALUE_BYTE_COUNT	39614618
+MAP	MAP	738629789200
+MAP	WRITE	697724674200
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	33186478000
+MAP	SERIALIZE_OUTPUT	557582496200
+MAP	MAP_MEM	248144080
+SPILL	SORT_AND_SPILL	12522137000
+SPILL	QUICK_SORT	7290978000
+SPILL	SORT_COUNT	545489
+SPILL	COMBINE	5193873000
+SPILL	WRITE	816463000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7827454
+SPILL	COMPRESS_BYTE_COUNT	7827562
+MERGE	TOTAL_MERGE	137358025000
+MERGE	READ_WRITE	132310527000
+MERGE	READ_WRITE_COUNT	108
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	890200402200
@@ -0,0 +1,267 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt/part-00103	0
+MAP	STARTUP_MEM	214828504
+MAP	SETUP	496000
+MAP	SETUP_MEM	214828504
+SPILL	SORT_AND_SPILL	19381391000
+SPILL	QUICK_SORT	11950557000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	7304808000
+SPILL	WRITE	1069610000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11799596
+SPILL	COMPRESS_BYTE_COUNT	11799704
+SPILL	SORT_AND_SPILL	17659549000
+SPILL	QUICK_SORT	11748794000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5871885000
+SPILL	WRITE	1040600000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11648876
+SPILL	COMPRESS_BYTE_COUNT	11648984
+SPILL	SORT_AND_SPILL	18437300000
+SPILL	QUICK_SORT	10463132000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	6144085000
+SPILL	WRITE	1092631000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12065739
+SPILL	COMPRESS_BYTE_COUNT	12065847
+SPILL	SORT_AND_SPILL	17286855000
+SPILL	QUICK_SORT	11463640000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5786338000
+SPILL	WRITE	1048885000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11791479
+SPILL	COMPRESS_BYTE_COUNT	11791587
+SPILL	SORT_AND_SPILL	17499452000
+SPILL	QUICK_SORT	11217030000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	5858471000
+SPILL	WRITE	1036704000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11479710
+SPILL	COMPRESS_BYTE_COUNT	11479818
+SPILL	SORT_AND_SPILL	17869485000
+SPILL	QUICK_SORT	11137690000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	6692150000
+SPILL	WRITE	1181474000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12182255
+SPILL	COMPRESS_BYTE_COUNT	12182363
+SPILL	SORT_AND_SPILL	18688264000
+SPILL	QUICK_SORT	10316869000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	7470139000
+SPILL	WRITE	1175686000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11819445
+SPILL	COMPRESS_BYTE_COUNT	11819553
+SPILL	SORT_AND_SPILL	17206874000
+SPILL	QUICK_SORT	11406474000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5761569000
+SPILL	WRITE	1023834000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11583543
+SPILL	COMPRESS_BYTE_COUNT	11583651
+SPILL	SORT_AND_SPILL	17033623000
+SPILL	QUICK_SORT	10566356000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5928413000
+SPILL	WRITE	1110552000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12058499
+SPILL	COMPRESS_BYTE_COUNT	12058607
+SPILL	SORT_AND_SPILL	17280165000
+SPILL	QUICK_SORT	10620904000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	6620729000
+SPILL	WRITE	1317430000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11652237
+SPILL	COMPRESS_BYTE_COUNT	11652345
+SPILL	SORT_AND_SPILL	16844288000
+SPILL	QUICK_SORT	10285140000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5704311000
+SPILL	WRITE	1016939000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11670533
+SPILL	COMPRESS_BYTE_COUNT	11670641
+SPILL	SORT_AND_SPILL	16674357000
+SPILL	QUICK_SORT	10235779000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	6400523000
+SPILL	WRITE	1073225000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11804839
+SPILL	COMPRESS_BYTE_COUNT	11804947
+SPILL	SORT_AND_SPILL	18475690000
+SPILL	QUICK_SORT	9667553000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	8229745000
+SPILL	WRITE	1572131000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11782711
+SPILL	COMPRESS_BYTE_COUNT	11782819
+SPILL	SORT_AND_SPILL	16729119282
+SPILL	QUICK_SORT	10848606282
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5841178000
+SPILL	WRITE	1123066000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12110083
+SPILL	COMPRESS_BYTE_COUNT	12110191
+SPILL	SORT_AND_SPILL	16726618000
+SPILL	QUICK_SORT	9883095000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	6751046000
+SPILL	WRITE	1326061000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11643780
+SPILL	COMPRESS_BYTE_COUNT	11643888
+SPILL	SORT_AND_SPILL	17012166000
+SPILL	QUICK_SORT	11082264000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5887954000
+SPILL	WRITE	1087938000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11628939
+SPILL	COMPRESS_BYTE_COUNT	11629047
+SPILL	SORT_AND_SPILL	17255432000
+SPILL	QUICK_SORT	11037896000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	6030815000
+SPILL	WRITE	1070384000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12048310
+SPILL	COMPRESS_BYTE_COUNT	12048418
+SPILL	SORT_AND_SPILL	17112975000
+SPILL	QUICK_SORT	11118288000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5955009000
+SPILL	WRITE	1083154000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11968173
+SPILL	COMPRESS_BYTE_COUNT	11968281
+SPILL	SORT_AND_SPILL	17053564000
+SPILL	QUICK_SORT	10878837000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	6085186000
+SPILL	WRITE	1285004000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11686254
+SPILL	COMPRESS_BYTE_COUNT	11686362
+SPILL	SORT_AND_SPILL	18578947000
+SPILL	QUICK_SORT	10835243000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	7704405000
+SPILL	WRITE	1148224000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11837473
+SPILL	COMPRESS_BYTE_COUNT	11837581
+SPILL	SORT_AND_SPILL	23075690000
+SPILL	QUICK_SORT	14120222000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5835280000
+SPILL	WRITE	1010308000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11954100
+SPILL	COMPRESS_BYTE_COUNT	11954208
+SPILL	SORT_AND_SPILL	17141402000
+SPILL	QUICK_SORT	10966660000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	6136298000
+SPILL	WRITE	1094197000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12072682
+SPILL	COMPRESS_BYTE_COUNT	12072790
+SPILL	SORT_AND_SPILL	17045513000
+SPILL	QUICK_SORT	9845253000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	6713226000
+SPILL	WRITE	1405553000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12158399
+SPILL	COMPRESS_BYTE_COUNT	12158507
+SPILL	SORT_AND_SPILL	16858638000
+SPILL	QUICK_SORT	11029394000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5789627000
+SPILL	WRITE	1003016000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11713735
+SPILL	COMPRESS_BYTE_COUNT	11713843
+SPILL	SORT_AND_SPILL	16543849000
+SPILL	QUICK_SORT	10325536000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	5827236000
+SPILL	WRITE	1086728000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11654590
+SPILL	COMPRESS_BYTE_COUNT	11654698
+SPILL	SORT_AND_SPILL	17853946000
+SPILL	QUICK_SORT	11121376000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	6695255000
+SPILL	WRITE	1468232000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11934252
+SPILL	COMPRESS_BYTE_COUNT	11934360
+SPILL	SORT_AND_SPILL	17302030000
+SPILL	QUICK_SORT	10701278000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	6027355000
+SPILL	WRITE	1149739000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11882027
+SPILL	COMPRESS_BYTE_COUNT	11882135
+SPILL	SORT_AND_SPILL	16816358000
+SPILL	QUICK_SORT	10537960000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	6240690000
+SPILL	WRITE	1087638000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11909859
+SPILL	COMPRESS_BYTE_COUNT	11909967
+SPILL	SORT_AND_SPILL	16046540000
+SPILL	QUICK_SORT	10027017000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5894496000
+SPILL	WRITE	1105929000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11817184
+SPILL	COMPRESS_BYTE_COUNT	11817292
+MAP	CLEANUP	106000
+MAP	CLEANUP_MEM	277757624
+MAP	TOTAL_RUN	627879819282
+MAP	READ	854541000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	134516
+MAP	VALUE_BYTE_COUNT	39359432
+MAP	MAP	626938847282
+MAP	WRITE	589375986282
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	41434485000
+MAP	SERIALIZE_OUTPUT	455052923282
+MAP	MAP_MEM	277792648
+SPILL	SORT_AND_SPILL	5926809000
+SPILL	QUICK_SORT	3587364000
+SPILL	SORT_COUNT	335545
+SPILL	COMBINE	2322308000
+SPILL	WRITE	487493000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	5129424
+SPILL	COMPRESS_BYTE_COUNT	5129532
+MERGE	TOTAL_MERGE	137554097000
+MERGE	READ_WRITE	131931117000
+MERGE	READ_WRITE_COUNT	108
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	771932589282
@@ -0,0 +1,267 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt/part-00108	0
+MAP	STARTUP_MEM	214799368
+MAP	SETUP	554000
+MAP	SETUP_MEM	214799368
+SPILL	SORT_AND_SPILL	20233045445
+SPILL	QUICK_SORT	12157466000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	7672543445
+SPILL	WRITE	1357872445
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11837126
+SPILL	COMPRESS_BYTE_COUNT	11837234
+SPILL	SORT_AND_SPILL	18525966000
+SPILL	QUICK_SORT	11527335000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	6958150000
+SPILL	WRITE	1231912000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11634262
+SPILL	COMPRESS_BYTE_COUNT	11634370
+SPILL	SORT_AND_SPILL	19714796000
+SPILL	QUICK_SORT	12594605000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	7000239000
+SPILL	WRITE	1186049000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11863442
+SPILL	COMPRESS_BYTE_COUNT	11863550
+SPILL	SORT_AND_SPILL	19620590101
+SPILL	QUICK_SORT	12633364101
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	6948658000
+SPILL	WRITE	1173500000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11755872
+SPILL	COMPRESS_BYTE_COUNT	11755980
+SPILL	SORT_AND_SPILL	20631578000
+SPILL	QUICK_SORT	13803426000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	6691519000
+SPILL	WRITE	1337863000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11676001
+SPILL	COMPRESS_BYTE_COUNT	11676109
+SPILL	SORT_AND_SPILL	19356696101
+SPILL	QUICK_SORT	12040594000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	7277493101
+SPILL	WRITE	1231620000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11661783
+SPILL	COMPRESS_BYTE_COUNT	11661891
+SPILL	SORT_AND_SPILL	19361885000
+SPILL	QUICK_SORT	11641988000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	6764794000
+SPILL	WRITE	1175480000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11505045
+SPILL	COMPRESS_BYTE_COUNT	11505153
+SPILL	SORT_AND_SPILL	21054666000
+SPILL	QUICK_SORT	11684485000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	9283773000
+SPILL	WRITE	1229744000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12017702
+SPILL	COMPRESS_BYTE_COUNT	12017810
+SPILL	SORT_AND_SPILL	17573924000
+SPILL	QUICK_SORT	9927062000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	7377182000
+SPILL	WRITE	1665816000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11591274
+SPILL	COMPRESS_BYTE_COUNT	11591382
+SPILL	SORT_AND_SPILL	18440305000
+SPILL	QUICK_SORT	10274232000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	8127248000
+SPILL	WRITE	1163337000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11782806
+SPILL	COMPRESS_BYTE_COUNT	11782914
+SPILL	SORT_AND_SPILL	20097292101
+SPILL	QUICK_SORT	11084772000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	8909677101
+SPILL	WRITE	1446379000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11993518
+SPILL	COMPRESS_BYTE_COUNT	11993626
+SPILL	SORT_AND_SPILL	17932503000
+SPILL	QUICK_SORT	10727244000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	7165639000
+SPILL	WRITE	1281843000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11892854
+SPILL	COMPRESS_BYTE_COUNT	11892962
+SPILL	SORT_AND_SPILL	18506947000
+SPILL	QUICK_SORT	10749402000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	7009517000
+SPILL	WRITE	1197286000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12003611
+SPILL	COMPRESS_BYTE_COUNT	12003719
+SPILL	SORT_AND_SPILL	18387368102
+SPILL	QUICK_SORT	9972591102
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	8376620000
+SPILL	WRITE	1629987000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11483419
+SPILL	COMPRESS_BYTE_COUNT	11483527
+SPILL	SORT_AND_SPILL	19198705000
+SPILL	QUICK_SORT	10291382000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	7933636000
+SPILL	WRITE	1370661000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12229506
+SPILL	COMPRESS_BYTE_COUNT	12229614
+SPILL	SORT_AND_SPILL	19443836101
+SPILL	QUICK_SORT	11321789101
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	8080825000
+SPILL	WRITE	1301190000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11814506
+SPILL	COMPRESS_BYTE_COUNT	11814614
+SPILL	SORT_AND_SPILL	19053800000
+SPILL	QUICK_SORT	10034127000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	8037139000
+SPILL	WRITE	1332093000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11728372
+SPILL	COMPRESS_BYTE_COUNT	11728480
+SPILL	SORT_AND_SPILL	20865322000
+SPILL	QUICK_SORT	14120723000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	6702877000
+SPILL	WRITE	1097658000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	10898347
+SPILL	COMPRESS_BYTE_COUNT	10898455
+SPILL	SORT_AND_SPILL	19491453000
+SPILL	QUICK_SORT	10597411000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	8030188000
+SPILL	WRITE	1441798000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11752336
+SPILL	COMPRESS_BYTE_COUNT	11752444
+SPILL	SORT_AND_SPILL	19069659000
+SPILL	QUICK_SORT	10261534000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	8770026000
+SPILL	WRITE	1465725000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11924243
+SPILL	COMPRESS_BYTE_COUNT	11924351
+SPILL	SORT_AND_SPILL	22076748101
+SPILL	QUICK_SORT	12091537101
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	9081499000
+SPILL	WRITE	1684388000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11802683
+SPILL	COMPRESS_BYTE_COUNT	11802791
+SPILL	SORT_AND_SPILL	21592726000
+SPILL	QUICK_SORT	11297345000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10254247000
+SPILL	WRITE	1911195000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11878514
+SPILL	COMPRESS_BYTE_COUNT	11878622
+SPILL	SORT_AND_SPILL	19030715101
+SPILL	QUICK_SORT	11669298101
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	6859828000
+SPILL	WRITE	1286875000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11753158
+SPILL	COMPRESS_BYTE_COUNT	11753266
+SPILL	SORT_AND_SPILL	19065932000
+SPILL	QUICK_SORT	10249327000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	8775122000
+SPILL	WRITE	1706926000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11759171
+SPILL	COMPRESS_BYTE_COUNT	11759279
+SPILL	SORT_AND_SPILL	24105706101
+SPILL	QUICK_SORT	11139224000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	11294256101
+SPILL	WRITE	1841630000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11649419
+SPILL	COMPRESS_BYTE_COUNT	11649527
+SPILL	SORT_AND_SPILL	25346414000
+SPILL	QUICK_SORT	14446107000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10861384000
+SPILL	WRITE	1624585000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11801848
+SPILL	COMPRESS_BYTE_COUNT	11801956
+SPILL	SORT_AND_SPILL	27625691101
+SPILL	QUICK_SORT	14171481101
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	8664111000
+SPILL	WRITE	1489197000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11917770
+SPILL	COMPRESS_BYTE_COUNT	11917878
+SPILL	SORT_AND_SPILL	23765281000
+SPILL	QUICK_SORT	12262163000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11404994000
+SPILL	WRITE	2218036000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11936569
+SPILL	COMPRESS_BYTE_COUNT	11936677
+SPILL	SORT_AND_SPILL	25335862243
+SPILL	QUICK_SORT	13589559243
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11707221000
+SPILL	WRITE	2059355000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11769301
+SPILL	COMPRESS_BYTE_COUNT	11769409
+MAP	CLEANUP	58000
+MAP	CLEANUP_MEM	214668232
+MAP	TOTAL_RUN	763571333800
+MAP	READ	1393699000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	130221
+MAP	VALUE_BYTE_COUNT	39282942
+MAP	MAP	761975030800
+MAP	WRITE	710405923800
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	37155501000
+MAP	SERIALIZE_OUTPUT	553205137496
+MAP	MAP_MEM	214668232
+SPILL	SORT_AND_SPILL	8340083000
+SPILL	QUICK_SORT	4525776000
+SPILL	SORT_COUNT	416191
+SPILL	COMBINE	3631221000
+SPILL	WRITE	613640000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	6335793
+SPILL	COMPRESS_BYTE_COUNT	6335901
+MERGE	TOTAL_MERGE	246855222405
+MERGE	READ_WRITE	236656475405
+MERGE	READ_WRITE_COUNT	108
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	1019320074205
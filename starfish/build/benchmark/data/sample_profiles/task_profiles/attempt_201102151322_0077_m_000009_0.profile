@@ -0,0 +1,259 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt/part-00111	0
+MAP	STARTUP_MEM	214774456
+MAP	SETUP	502000
+MAP	SETUP_MEM	214774456
+SPILL	SORT_AND_SPILL	18265254000
+SPILL	QUICK_SORT	12226194000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	5910483000
+SPILL	WRITE	1058093000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11874405
+SPILL	COMPRESS_BYTE_COUNT	11874513
+SPILL	SORT_AND_SPILL	16612672000
+SPILL	QUICK_SORT	10625762000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5947552000
+SPILL	WRITE	1132596000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11772960
+SPILL	COMPRESS_BYTE_COUNT	11773068
+SPILL	SORT_AND_SPILL	16037479000
+SPILL	QUICK_SORT	10444571000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5482149000
+SPILL	WRITE	985474000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11127984
+SPILL	COMPRESS_BYTE_COUNT	11128092
+SPILL	SORT_AND_SPILL	16104313000
+SPILL	QUICK_SORT	10389066000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5676779000
+SPILL	WRITE	1031863000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11686915
+SPILL	COMPRESS_BYTE_COUNT	11687023
+SPILL	SORT_AND_SPILL	17398461389
+SPILL	QUICK_SORT	10967464000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	5681201389
+SPILL	WRITE	1062534000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11902073
+SPILL	COMPRESS_BYTE_COUNT	11902181
+SPILL	SORT_AND_SPILL	18509884000
+SPILL	QUICK_SORT	11498700000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	6972695000
+SPILL	WRITE	1436621000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12110414
+SPILL	COMPRESS_BYTE_COUNT	12110522
+SPILL	SORT_AND_SPILL	16794290000
+SPILL	QUICK_SORT	10395254000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	6086754000
+SPILL	WRITE	1067092000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11713479
+SPILL	COMPRESS_BYTE_COUNT	11713587
+SPILL	SORT_AND_SPILL	17200408000
+SPILL	QUICK_SORT	11297716000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5864687000
+SPILL	WRITE	1106294000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12068002
+SPILL	COMPRESS_BYTE_COUNT	12068110
+SPILL	SORT_AND_SPILL	16439308000
+SPILL	QUICK_SORT	9815287000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5759450000
+SPILL	WRITE	1090552000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11317014
+SPILL	COMPRESS_BYTE_COUNT	11317122
+SPILL	SORT_AND_SPILL	16272240000
+SPILL	QUICK_SORT	10417735000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	5816402000
+SPILL	WRITE	1107026000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11679728
+SPILL	COMPRESS_BYTE_COUNT	11679836
+SPILL	SORT_AND_SPILL	16365077000
+SPILL	QUICK_SORT	10283362000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5820569000
+SPILL	WRITE	1100444000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11999264
+SPILL	COMPRESS_BYTE_COUNT	11999372
+SPILL	SORT_AND_SPILL	16096626000
+SPILL	QUICK_SORT	10185855000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5872797000
+SPILL	WRITE	1086154000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12398706
+SPILL	COMPRESS_BYTE_COUNT	12398814
+SPILL	SORT_AND_SPILL	16834216000
+SPILL	QUICK_SORT	10010070000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	6660026000
+SPILL	WRITE	1148647000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12099394
+SPILL	COMPRESS_BYTE_COUNT	12099502
+SPILL	SORT_AND_SPILL	16774583000
+SPILL	QUICK_SORT	10271541000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	6462113000
+SPILL	WRITE	1074691000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11886230
+SPILL	COMPRESS_BYTE_COUNT	11886338
+SPILL	SORT_AND_SPILL	18832239000
+SPILL	QUICK_SORT	11605333000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	7136902000
+SPILL	WRITE	1297116000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11786635
+SPILL	COMPRESS_BYTE_COUNT	11786743
+SPILL	SORT_AND_SPILL	15621628000
+SPILL	QUICK_SORT	10052863000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5528924000
+SPILL	WRITE	1002080000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11177751
+SPILL	COMPRESS_BYTE_COUNT	11177859
+SPILL	SORT_AND_SPILL	16632960000
+SPILL	QUICK_SORT	10744588000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5747517000
+SPILL	WRITE	1065275000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12058844
+SPILL	COMPRESS_BYTE_COUNT	12058952
+SPILL	SORT_AND_SPILL	17135548000
+SPILL	QUICK_SORT	11119671000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5979024000
+SPILL	WRITE	1136104000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11191905
+SPILL	COMPRESS_BYTE_COUNT	11192013
+SPILL	SORT_AND_SPILL	17581577000
+SPILL	QUICK_SORT	11114720000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	6365524000
+SPILL	WRITE	1262594000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11718722
+SPILL	COMPRESS_BYTE_COUNT	11718830
+SPILL	SORT_AND_SPILL	16904133000
+SPILL	QUICK_SORT	10719347000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	6147660000
+SPILL	WRITE	1293789000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11149784
+SPILL	COMPRESS_BYTE_COUNT	11149892
+SPILL	SORT_AND_SPILL	15832009000
+SPILL	QUICK_SORT	10139705000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5377207000
+SPILL	WRITE	970360000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	10786137
+SPILL	COMPRESS_BYTE_COUNT	10786245
+SPILL	SORT_AND_SPILL	17275400000
+SPILL	QUICK_SORT	11283891000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5951572000
+SPILL	WRITE	1092822000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11507152
+SPILL	COMPRESS_BYTE_COUNT	11507260
+SPILL	SORT_AND_SPILL	17785346000
+SPILL	QUICK_SORT	10545212000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5874888000
+SPILL	WRITE	1087125000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11772807
+SPILL	COMPRESS_BYTE_COUNT	11772915
+SPILL	SORT_AND_SPILL	15700790000
+SPILL	QUICK_SORT	9969903000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5690229000
+SPILL	WRITE	1049303000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11519932
+SPILL	COMPRESS_BYTE_COUNT	11520040
+SPILL	SORT_AND_SPILL	15873769000
+SPILL	QUICK_SORT	9753916000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	5602232000
+SPILL	WRITE	1019289000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11325243
+SPILL	COMPRESS_BYTE_COUNT	11325351
+SPILL	SORT_AND_SPILL	16958080000
+SPILL	QUICK_SORT	11088983000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5830345000
+SPILL	WRITE	1107674000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11849096
+SPILL	COMPRESS_BYTE_COUNT	11849204
+SPILL	SORT_AND_SPILL	16528620000
+SPILL	QUICK_SORT	10312629000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5649793000
+SPILL	WRITE	1058118000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11474645
+SPILL	COMPRESS_BYTE_COUNT	11474753
+SPILL	SORT_AND_SPILL	16406906000
+SPILL	QUICK_SORT	10476667000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5892193000
+SPILL	WRITE	1166453000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11943489
+SPILL	COMPRESS_BYTE_COUNT	11943597
+MAP	CLEANUP	103000
+MAP	CLEANUP_MEM	230195288
+MAP	TOTAL_RUN	585629061389
+MAP	READ	778744000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	239797
+MAP	VALUE_BYTE_COUNT	38749181
+MAP	MAP	584727940389
+MAP	WRITE	556674214389
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	31348267000
+MAP	SERIALIZE_OUTPUT	436263168389
+MAP	MAP_MEM	230197336
+SPILL	SORT_AND_SPILL	13549968000
+SPILL	QUICK_SORT	8541508000
+SPILL	SORT_COUNT	696954
+SPILL	COMBINE	4925444000
+SPILL	WRITE	930828000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	10062371
+SPILL	COMPRESS_BYTE_COUNT	10062479
+MERGE	TOTAL_MERGE	121793432000
+MERGE	READ_WRITE	120269006000
+MERGE	READ_WRITE_COUNT	108
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	721411322389
@@ -0,0 +1,259 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt/part-00110	0
+MAP	STARTUP_MEM	214813384
+MAP	SETUP	519000
+MAP	SETUP_MEM	214813384
+SPILL	SORT_AND_SPILL	17673927000
+SPILL	QUICK_SORT	11691828000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	5741716000
+SPILL	WRITE	1061416000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11310544
+SPILL	COMPRESS_BYTE_COUNT	11310652
+SPILL	SORT_AND_SPILL	16117762000
+SPILL	QUICK_SORT	10513217000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5566725000
+SPILL	WRITE	1069559000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11423450
+SPILL	COMPRESS_BYTE_COUNT	11423558
+SPILL	SORT_AND_SPILL	17261935000
+SPILL	QUICK_SORT	10024350000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5803226000
+SPILL	WRITE	1164592000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11945982
+SPILL	COMPRESS_BYTE_COUNT	11946090
+SPILL	SORT_AND_SPILL	16826800000
+SPILL	QUICK_SORT	11030203000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5759676000
+SPILL	WRITE	1071815000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11979462
+SPILL	COMPRESS_BYTE_COUNT	11979570
+SPILL	SORT_AND_SPILL	17028332000
+SPILL	QUICK_SORT	10508884000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	6089754000
+SPILL	WRITE	1079861000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11791061
+SPILL	COMPRESS_BYTE_COUNT	11791169
+SPILL	SORT_AND_SPILL	15812319000
+SPILL	QUICK_SORT	10056666000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5719653000
+SPILL	WRITE	1035060000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11889260
+SPILL	COMPRESS_BYTE_COUNT	11889368
+SPILL	SORT_AND_SPILL	16943351000
+SPILL	QUICK_SORT	10543642000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5832528000
+SPILL	WRITE	1119130000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11858718
+SPILL	COMPRESS_BYTE_COUNT	11858826
+SPILL	SORT_AND_SPILL	16645353000
+SPILL	QUICK_SORT	10494429000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	6110590000
+SPILL	WRITE	1090294000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11843011
+SPILL	COMPRESS_BYTE_COUNT	11843119
+SPILL	SORT_AND_SPILL	15302214000
+SPILL	QUICK_SORT	9454691000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5746411000
+SPILL	WRITE	1035498000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11732457
+SPILL	COMPRESS_BYTE_COUNT	11732565
+SPILL	SORT_AND_SPILL	15418528000
+SPILL	QUICK_SORT	10254768000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	5128243000
+SPILL	WRITE	949420000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	9985220
+SPILL	COMPRESS_BYTE_COUNT	9985328
+SPILL	SORT_AND_SPILL	16176011000
+SPILL	QUICK_SORT	9930223000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	6145389000
+SPILL	WRITE	1121473000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11857987
+SPILL	COMPRESS_BYTE_COUNT	11858095
+SPILL	SORT_AND_SPILL	16092158000
+SPILL	QUICK_SORT	10439252000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5616504000
+SPILL	WRITE	1011293000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11360531
+SPILL	COMPRESS_BYTE_COUNT	11360639
+SPILL	SORT_AND_SPILL	16424622000
+SPILL	QUICK_SORT	9866074000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5457731000
+SPILL	WRITE	1021889000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11177475
+SPILL	COMPRESS_BYTE_COUNT	11177583
+SPILL	SORT_AND_SPILL	18737783000
+SPILL	QUICK_SORT	12154978000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	6546383000
+SPILL	WRITE	1430105000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11899401
+SPILL	COMPRESS_BYTE_COUNT	11899509
+SPILL	SORT_AND_SPILL	16819693000
+SPILL	QUICK_SORT	9769111000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	6188589000
+SPILL	WRITE	1105781000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11824706
+SPILL	COMPRESS_BYTE_COUNT	11824814
+SPILL	SORT_AND_SPILL	15621119000
+SPILL	QUICK_SORT	10403998000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5178024000
+SPILL	WRITE	977874000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	10203690
+SPILL	COMPRESS_BYTE_COUNT	10203798
+SPILL	SORT_AND_SPILL	17141534000
+SPILL	QUICK_SORT	9649543000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	6246328000
+SPILL	WRITE	1407481000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11080052
+SPILL	COMPRESS_BYTE_COUNT	11080160
+SPILL	SORT_AND_SPILL	15348100000
+SPILL	QUICK_SORT	10246980000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5053298000
+SPILL	WRITE	934840000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	9736446
+SPILL	COMPRESS_BYTE_COUNT	9736554
+SPILL	SORT_AND_SPILL	15161307000
+SPILL	QUICK_SORT	9576853000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	4924342000
+SPILL	WRITE	815886000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	9454409
+SPILL	COMPRESS_BYTE_COUNT	9454517
+SPILL	SORT_AND_SPILL	15826509000
+SPILL	QUICK_SORT	10250392000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	5539293000
+SPILL	WRITE	1009804000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	10925741
+SPILL	COMPRESS_BYTE_COUNT	10925849
+SPILL	SORT_AND_SPILL	17003042000
+SPILL	QUICK_SORT	10227646000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5653048000
+SPILL	WRITE	1092046000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11755576
+SPILL	COMPRESS_BYTE_COUNT	11755684
+SPILL	SORT_AND_SPILL	16260923388
+SPILL	QUICK_SORT	10545020388
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5679560000
+SPILL	WRITE	1110087000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11522465
+SPILL	COMPRESS_BYTE_COUNT	11522573
+SPILL	SORT_AND_SPILL	17072383000
+SPILL	QUICK_SORT	10363160000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5700454000
+SPILL	WRITE	1075030000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11893960
+SPILL	COMPRESS_BYTE_COUNT	11894068
+SPILL	SORT_AND_SPILL	16540878000
+SPILL	QUICK_SORT	10968421000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5534406000
+SPILL	WRITE	1032749000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11301237
+SPILL	COMPRESS_BYTE_COUNT	11301345
+SPILL	SORT_AND_SPILL	16119710000
+SPILL	QUICK_SORT	9949458000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	5265350000
+SPILL	WRITE	973525000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	10535845
+SPILL	COMPRESS_BYTE_COUNT	10535953
+SPILL	SORT_AND_SPILL	17387249000
+SPILL	QUICK_SORT	10769593000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	6582037000
+SPILL	WRITE	1191107000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11652249
+SPILL	COMPRESS_BYTE_COUNT	11652357
+SPILL	SORT_AND_SPILL	18401829000
+SPILL	QUICK_SORT	11951188000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5712042000
+SPILL	WRITE	1069232000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11895167
+SPILL	COMPRESS_BYTE_COUNT	11895275
+SPILL	SORT_AND_SPILL	17610577000
+SPILL	QUICK_SORT	10993495000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	6569808000
+SPILL	WRITE	1206041000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11918240
+SPILL	COMPRESS_BYTE_COUNT	11918348
+MAP	CLEANUP	104000
+MAP	CLEANUP_MEM	263147696
+MAP	TOTAL_RUN	590968154388
+MAP	READ	1398812000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	139460
+MAP	VALUE_BYTE_COUNT	38052515
+MAP	MAP	589466066388
+MAP	WRITE	557898584388
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	36034643000
+MAP	SERIALIZE_OUTPUT	420269409388
+MAP	MAP_MEM	263147696
+SPILL	SORT_AND_SPILL	11874251000
+SPILL	QUICK_SORT	7824943000
+SPILL	SORT_COUNT	522210
+SPILL	COMBINE	3944341000
+SPILL	WRITE	887460000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7640112
+SPILL	COMPRESS_BYTE_COUNT	7640220
+MERGE	TOTAL_MERGE	172647131000
+MERGE	READ_WRITE	161305037000
+MERGE	READ_WRITE_COUNT	108
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	775941470388
@@ -0,0 +1,259 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt/part-00112	0
+MAP	STARTUP_MEM	213955208
+MAP	SETUP	528000
+MAP	SETUP_MEM	213955208
+SPILL	SORT_AND_SPILL	21435367000
+SPILL	QUICK_SORT	13872781000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	7385327000
+SPILL	WRITE	1512901000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11758394
+SPILL	COMPRESS_BYTE_COUNT	11758502
+SPILL	SORT_AND_SPILL	19791899553
+SPILL	QUICK_SORT	12439280553
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	7305720000
+SPILL	WRITE	1536950000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12032818
+SPILL	COMPRESS_BYTE_COUNT	12032926
+SPILL	SORT_AND_SPILL	19681831000
+SPILL	QUICK_SORT	12453074000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	7093018000
+SPILL	WRITE	1382717000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11806802
+SPILL	COMPRESS_BYTE_COUNT	11806910
+SPILL	SORT_AND_SPILL	20201518642
+SPILL	QUICK_SORT	12774813642
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	7382135000
+SPILL	WRITE	1381280000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12143118
+SPILL	COMPRESS_BYTE_COUNT	12143226
+SPILL	SORT_AND_SPILL	19672771000
+SPILL	QUICK_SORT	11976553000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	7562244000
+SPILL	WRITE	1452172000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12114313
+SPILL	COMPRESS_BYTE_COUNT	12114421
+SPILL	SORT_AND_SPILL	20014022000
+SPILL	QUICK_SORT	10960886000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	9005996000
+SPILL	WRITE	2027051000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11871494
+SPILL	COMPRESS_BYTE_COUNT	11871602
+SPILL	SORT_AND_SPILL	19260615000
+SPILL	QUICK_SORT	11382729000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	7482246000
+SPILL	WRITE	1185436000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11890281
+SPILL	COMPRESS_BYTE_COUNT	11890389
+SPILL	SORT_AND_SPILL	20241081000
+SPILL	QUICK_SORT	13152612000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	7043815000
+SPILL	WRITE	1327490000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11691219
+SPILL	COMPRESS_BYTE_COUNT	11691327
+SPILL	SORT_AND_SPILL	18316058793
+SPILL	QUICK_SORT	10596307793
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	7542732000
+SPILL	WRITE	1512372000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11838678
+SPILL	COMPRESS_BYTE_COUNT	11838786
+SPILL	SORT_AND_SPILL	18444289000
+SPILL	QUICK_SORT	10453066000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	7945139000
+SPILL	WRITE	1383114000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12045486
+SPILL	COMPRESS_BYTE_COUNT	12045594
+SPILL	SORT_AND_SPILL	18849286000
+SPILL	QUICK_SORT	10267082000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	8469014000
+SPILL	WRITE	1488888000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11308651
+SPILL	COMPRESS_BYTE_COUNT	11308759
+SPILL	SORT_AND_SPILL	17558403000
+SPILL	QUICK_SORT	10811502000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	6699287000
+SPILL	WRITE	1117878000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11528284
+SPILL	COMPRESS_BYTE_COUNT	11528392
+SPILL	SORT_AND_SPILL	18449677000
+SPILL	QUICK_SORT	10799270000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	7515925000
+SPILL	WRITE	1165814000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11273821
+SPILL	COMPRESS_BYTE_COUNT	11273929
+SPILL	SORT_AND_SPILL	21458762641
+SPILL	QUICK_SORT	12715093641
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	8696650000
+SPILL	WRITE	1835140000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11345347
+SPILL	COMPRESS_BYTE_COUNT	11345455
+SPILL	SORT_AND_SPILL	19082350000
+SPILL	QUICK_SORT	10242806000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	8427395000
+SPILL	WRITE	1476278000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11764430
+SPILL	COMPRESS_BYTE_COUNT	11764538
+SPILL	SORT_AND_SPILL	18610399000
+SPILL	QUICK_SORT	10893637000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	7672267000
+SPILL	WRITE	1540622000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11807068
+SPILL	COMPRESS_BYTE_COUNT	11807176
+SPILL	SORT_AND_SPILL	20841419000
+SPILL	QUICK_SORT	12438071000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	8031032000
+SPILL	WRITE	1264667000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11293288
+SPILL	COMPRESS_BYTE_COUNT	11293396
+SPILL	SORT_AND_SPILL	19789064000
+SPILL	QUICK_SORT	10864698000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	8877964000
+SPILL	WRITE	1706039000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11825141
+SPILL	COMPRESS_BYTE_COUNT	11825249
+SPILL	SORT_AND_SPILL	19982778642
+SPILL	QUICK_SORT	10896848642
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	8409939000
+SPILL	WRITE	1427803000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	10948594
+SPILL	COMPRESS_BYTE_COUNT	10948702
+SPILL	SORT_AND_SPILL	18692022000
+SPILL	QUICK_SORT	10507267000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	8026216000
+SPILL	WRITE	1379916000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11905238
+SPILL	COMPRESS_BYTE_COUNT	11905346
+SPILL	SORT_AND_SPILL	17821679793
+SPILL	QUICK_SORT	10218051000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	7309847793
+SPILL	WRITE	1193247000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11411162
+SPILL	COMPRESS_BYTE_COUNT	11411270
+SPILL	SORT_AND_SPILL	17138288000
+SPILL	QUICK_SORT	10446827000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	6647249000
+SPILL	WRITE	1260173000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	10968158
+SPILL	COMPRESS_BYTE_COUNT	10968266
+SPILL	SORT_AND_SPILL	19034967000
+SPILL	QUICK_SORT	11577128000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	7095660000
+SPILL	WRITE	1329051000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12240385
+SPILL	COMPRESS_BYTE_COUNT	12240493
+SPILL	SORT_AND_SPILL	18511192642
+SPILL	QUICK_SORT	11222416642
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	7245649000
+SPILL	WRITE	1329328000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11639046
+SPILL	COMPRESS_BYTE_COUNT	11639154
+SPILL	SORT_AND_SPILL	19580939000
+SPILL	QUICK_SORT	12212999000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	7258545000
+SPILL	WRITE	1433330000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11808528
+SPILL	COMPRESS_BYTE_COUNT	11808636
+SPILL	SORT_AND_SPILL	20523282641
+SPILL	QUICK_SORT	13185553000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	7292844641
+SPILL	WRITE	1388273000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12049282
+SPILL	COMPRESS_BYTE_COUNT	12049390
+SPILL	SORT_AND_SPILL	32611155000
+SPILL	QUICK_SORT	18665787000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	12833109000
+SPILL	WRITE	2160759000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11840378
+SPILL	COMPRESS_BYTE_COUNT	11840486
+MAP	CLEANUP	145000
+MAP	CLEANUP_MEM	225143944
+MAP	TOTAL_RUN	705759089459
+MAP	READ	859089000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	129566
+MAP	VALUE_BYTE_COUNT	37655752
+MAP	MAP	704802752459
+MAP	WRITE	658564934459
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	39025248980
+MAP	SERIALIZE_OUTPUT	483465930195
+MAP	MAP_MEM	225143944
+SPILL	SORT_AND_SPILL	24223803490
+SPILL	QUICK_SORT	12147451490
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11669534000
+SPILL	WRITE	2185881000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11862026
+SPILL	COMPRESS_BYTE_COUNT	11862134
+SPILL	SORT_AND_SPILL	1984799000
+SPILL	QUICK_SORT	1157274000
+SPILL	SORT_COUNT	104870
+SPILL	COMBINE	820187000
+SPILL	WRITE	168955000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	1659008
+SPILL	COMPRESS_BYTE_COUNT	1659116
+MERGE	TOTAL_MERGE	189300096036
+MERGE	READ_WRITE	178237062036
+MERGE	READ_WRITE_COUNT	108
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	909217856495
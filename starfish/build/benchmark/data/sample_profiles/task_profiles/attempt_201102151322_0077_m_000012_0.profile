@@ -0,0 +1,251 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt/part-00113	0
+MAP	STARTUP_MEM	214817360
+MAP	SETUP	592000
+MAP	SETUP_MEM	214817360
+SPILL	SORT_AND_SPILL	20463544000
+SPILL	QUICK_SORT	12595349000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	7387583000
+SPILL	WRITE	1395076000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12131473
+SPILL	COMPRESS_BYTE_COUNT	12131581
+SPILL	SORT_AND_SPILL	20101083188
+SPILL	QUICK_SORT	12770724188
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	7284190000
+SPILL	WRITE	1514371000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12191867
+SPILL	COMPRESS_BYTE_COUNT	12191975
+SPILL	SORT_AND_SPILL	18888071000
+SPILL	QUICK_SORT	11591204000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	7041504000
+SPILL	WRITE	1369175000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11561997
+SPILL	COMPRESS_BYTE_COUNT	11562105
+SPILL	SORT_AND_SPILL	18701534908
+SPILL	QUICK_SORT	11243593000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	7409250908
+SPILL	WRITE	1381922000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11736118
+SPILL	COMPRESS_BYTE_COUNT	11736226
+SPILL	SORT_AND_SPILL	19518259000
+SPILL	QUICK_SORT	11666038000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	7629650000
+SPILL	WRITE	1447080000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11952341
+SPILL	COMPRESS_BYTE_COUNT	11952449
+SPILL	SORT_AND_SPILL	19127055000
+SPILL	QUICK_SORT	10963823000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	8116868000
+SPILL	WRITE	1640907000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11967030
+SPILL	COMPRESS_BYTE_COUNT	11967138
+SPILL	SORT_AND_SPILL	18994358604
+SPILL	QUICK_SORT	11223475604
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	7603464000
+SPILL	WRITE	1398051000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11664585
+SPILL	COMPRESS_BYTE_COUNT	11664693
+SPILL	SORT_AND_SPILL	21608036000
+SPILL	QUICK_SORT	12670151000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	8889196000
+SPILL	WRITE	1628259000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11935060
+SPILL	COMPRESS_BYTE_COUNT	11935168
+SPILL	SORT_AND_SPILL	18558860908
+SPILL	QUICK_SORT	11122172000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	7215806908
+SPILL	WRITE	1443451000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11870750
+SPILL	COMPRESS_BYTE_COUNT	11870858
+SPILL	SORT_AND_SPILL	19149656000
+SPILL	QUICK_SORT	10072529000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	9028965000
+SPILL	WRITE	1747843000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11911107
+SPILL	COMPRESS_BYTE_COUNT	11911215
+SPILL	SORT_AND_SPILL	17782453000
+SPILL	QUICK_SORT	10132387000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	7168129000
+SPILL	WRITE	1392797000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11993024
+SPILL	COMPRESS_BYTE_COUNT	11993132
+SPILL	SORT_AND_SPILL	18705202604
+SPILL	QUICK_SORT	11631468604
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	7030932000
+SPILL	WRITE	1402936000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11882987
+SPILL	COMPRESS_BYTE_COUNT	11883095
+SPILL	SORT_AND_SPILL	20481776000
+SPILL	QUICK_SORT	11896982000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	8415195000
+SPILL	WRITE	1536316000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11653324
+SPILL	COMPRESS_BYTE_COUNT	11653432
+SPILL	SORT_AND_SPILL	19419031755
+SPILL	QUICK_SORT	11080255000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	8293422755
+SPILL	WRITE	1486613000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11668142
+SPILL	COMPRESS_BYTE_COUNT	11668250
+SPILL	SORT_AND_SPILL	19590881000
+SPILL	QUICK_SORT	10596744000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	8477362000
+SPILL	WRITE	1853225000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11515744
+SPILL	COMPRESS_BYTE_COUNT	11515852
+SPILL	SORT_AND_SPILL	18353530000
+SPILL	QUICK_SORT	10150428000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	8159235000
+SPILL	WRITE	1196559000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11130873
+SPILL	COMPRESS_BYTE_COUNT	11130981
+SPILL	SORT_AND_SPILL	16521932756
+SPILL	QUICK_SORT	9392527000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	6148971000
+SPILL	WRITE	1275822000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	10024646
+SPILL	COMPRESS_BYTE_COUNT	10024754
+SPILL	SORT_AND_SPILL	17215384000
+SPILL	QUICK_SORT	10264855000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	6908931000
+SPILL	WRITE	1213750000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	10405777
+SPILL	COMPRESS_BYTE_COUNT	10405885
+SPILL	SORT_AND_SPILL	18388663908
+SPILL	QUICK_SORT	11113225000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	7130729908
+SPILL	WRITE	1406078000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11980268
+SPILL	COMPRESS_BYTE_COUNT	11980376
+SPILL	SORT_AND_SPILL	15946667000
+SPILL	QUICK_SORT	10204198000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	5702368000
+SPILL	WRITE	1059880000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	8916583
+SPILL	COMPRESS_BYTE_COUNT	8916691
+SPILL	SORT_AND_SPILL	20562406000
+SPILL	QUICK_SORT	12750056000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	7352727000
+SPILL	WRITE	1591442000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11949090
+SPILL	COMPRESS_BYTE_COUNT	11949198
+SPILL	SORT_AND_SPILL	21344415756
+SPILL	QUICK_SORT	12201289756
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	9098312000
+SPILL	WRITE	1556392000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11446967
+SPILL	COMPRESS_BYTE_COUNT	11447075
+SPILL	SORT_AND_SPILL	19769116000
+SPILL	QUICK_SORT	11397981000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	7755939000
+SPILL	WRITE	1216211000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	9889508
+SPILL	COMPRESS_BYTE_COUNT	9889616
+SPILL	SORT_AND_SPILL	21252553604
+SPILL	QUICK_SORT	11419829604
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	9785208000
+SPILL	WRITE	1598999000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11806080
+SPILL	COMPRESS_BYTE_COUNT	11806188
+SPILL	SORT_AND_SPILL	21364813000
+SPILL	QUICK_SORT	10602358000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	10528852000
+SPILL	WRITE	1490409000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11899452
+SPILL	COMPRESS_BYTE_COUNT	11899560
+SPILL	SORT_AND_SPILL	17855945908
+SPILL	QUICK_SORT	9569045000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	8238324908
+SPILL	WRITE	1259171000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	10905482
+SPILL	COMPRESS_BYTE_COUNT	10905590
+SPILL	SORT_AND_SPILL	31871438000
+SPILL	QUICK_SORT	11225030000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	20510040000
+SPILL	WRITE	5849923000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11442766
+SPILL	COMPRESS_BYTE_COUNT	11442874
+MAP	CLEANUP	126000
+MAP	CLEANUP_MEM	280009792
+MAP	TOTAL_RUN	689304761899
+MAP	READ	1294390000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	119637
+MAP	VALUE_BYTE_COUNT	37005233
+MAP	MAP	687721240899
+MAP	WRITE	631440980143
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	36285249000
+MAP	SERIALIZE_OUTPUT	475181351539
+MAP	MAP_MEM	280009792
+SPILL	SORT_AND_SPILL	17485222604
+SPILL	QUICK_SORT	12419683604
+SPILL	SORT_COUNT	526695
+SPILL	COMBINE	4690222000
+SPILL	WRITE	809646000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	6348302
+SPILL	COMPRESS_BYTE_COUNT	6348410
+MERGE	TOTAL_MERGE	228061483267
+MERGE	READ_WRITE	211710374267
+MERGE	READ_WRITE_COUNT	81
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	935325368770
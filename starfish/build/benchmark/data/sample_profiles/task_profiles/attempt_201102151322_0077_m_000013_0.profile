@@ -0,0 +1,251 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt/part-00107	0
+MAP	STARTUP_MEM	214820984
+MAP	SETUP	530000
+MAP	SETUP_MEM	214820984
+SPILL	SORT_AND_SPILL	17756278000
+SPILL	QUICK_SORT	11884892000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	5654392000
+SPILL	WRITE	1007092000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11276200
+SPILL	COMPRESS_BYTE_COUNT	11276308
+SPILL	SORT_AND_SPILL	16948374176
+SPILL	QUICK_SORT	10457636176
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	6450091000
+SPILL	WRITE	1086117000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11452122
+SPILL	COMPRESS_BYTE_COUNT	11452230
+SPILL	SORT_AND_SPILL	17027122000
+SPILL	QUICK_SORT	11137254000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5579771000
+SPILL	WRITE	1038775000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11179746
+SPILL	COMPRESS_BYTE_COUNT	11179854
+SPILL	SORT_AND_SPILL	16835005000
+SPILL	QUICK_SORT	11194798000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5598160000
+SPILL	WRITE	1044922000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11054789
+SPILL	COMPRESS_BYTE_COUNT	11054897
+SPILL	SORT_AND_SPILL	18617565000
+SPILL	QUICK_SORT	12704129000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	5780703000
+SPILL	WRITE	1087723000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11768568
+SPILL	COMPRESS_BYTE_COUNT	11768676
+SPILL	SORT_AND_SPILL	16780730000
+SPILL	QUICK_SORT	11323740000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5416721000
+SPILL	WRITE	1001853000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	10996773
+SPILL	COMPRESS_BYTE_COUNT	10996881
+SPILL	SORT_AND_SPILL	17508048000
+SPILL	QUICK_SORT	11406951000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5990123000
+SPILL	WRITE	1129831000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11914708
+SPILL	COMPRESS_BYTE_COUNT	11914816
+SPILL	SORT_AND_SPILL	16193034000
+SPILL	QUICK_SORT	10286984000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5854084000
+SPILL	WRITE	1030729000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11875962
+SPILL	COMPRESS_BYTE_COUNT	11876070
+SPILL	SORT_AND_SPILL	16787190000
+SPILL	QUICK_SORT	10779752000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5770311000
+SPILL	WRITE	1081728000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12081586
+SPILL	COMPRESS_BYTE_COUNT	12081694
+SPILL	SORT_AND_SPILL	17827377000
+SPILL	QUICK_SORT	11707729000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	6068922000
+SPILL	WRITE	1136384000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12036130
+SPILL	COMPRESS_BYTE_COUNT	12036238
+SPILL	SORT_AND_SPILL	17138167000
+SPILL	QUICK_SORT	11295522000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5736636000
+SPILL	WRITE	1063124000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11666832
+SPILL	COMPRESS_BYTE_COUNT	11666940
+SPILL	SORT_AND_SPILL	15105038000
+SPILL	QUICK_SORT	9809864000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5251135000
+SPILL	WRITE	893827000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	10136147
+SPILL	COMPRESS_BYTE_COUNT	10136255
+SPILL	SORT_AND_SPILL	16547569000
+SPILL	QUICK_SORT	9982799000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5730203000
+SPILL	WRITE	1014809000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11571378
+SPILL	COMPRESS_BYTE_COUNT	11571486
+SPILL	SORT_AND_SPILL	17938699000
+SPILL	QUICK_SORT	10018018000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	7852093000
+SPILL	WRITE	1615455000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11852166
+SPILL	COMPRESS_BYTE_COUNT	11852274
+SPILL	SORT_AND_SPILL	18415091000
+SPILL	QUICK_SORT	11442290000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	6866062000
+SPILL	WRITE	1257659000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11932179
+SPILL	COMPRESS_BYTE_COUNT	11932287
+SPILL	SORT_AND_SPILL	17254864000
+SPILL	QUICK_SORT	11352860000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5857162000
+SPILL	WRITE	1032945000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12000161
+SPILL	COMPRESS_BYTE_COUNT	12000269
+SPILL	SORT_AND_SPILL	19614608000
+SPILL	QUICK_SORT	11739810000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	7773951000
+SPILL	WRITE	1912922000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11735812
+SPILL	COMPRESS_BYTE_COUNT	11735920
+SPILL	SORT_AND_SPILL	16597247000
+SPILL	QUICK_SORT	10517393000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	6036380000
+SPILL	WRITE	1141875000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11911464
+SPILL	COMPRESS_BYTE_COUNT	11911572
+SPILL	SORT_AND_SPILL	18265320000
+SPILL	QUICK_SORT	11918330000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	6159173000
+SPILL	WRITE	1114336000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11892159
+SPILL	COMPRESS_BYTE_COUNT	11892267
+SPILL	SORT_AND_SPILL	17810775000
+SPILL	QUICK_SORT	11977519000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	5789941000
+SPILL	WRITE	1046669000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11583779
+SPILL	COMPRESS_BYTE_COUNT	11583887
+SPILL	SORT_AND_SPILL	17712764000
+SPILL	QUICK_SORT	11572432000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5773373000
+SPILL	WRITE	1102140000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11745743
+SPILL	COMPRESS_BYTE_COUNT	11745851
+SPILL	SORT_AND_SPILL	18489032000
+SPILL	QUICK_SORT	12484573000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5963547000
+SPILL	WRITE	1088190000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11874407
+SPILL	COMPRESS_BYTE_COUNT	11874515
+SPILL	SORT_AND_SPILL	17708202000
+SPILL	QUICK_SORT	11874657000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5733853000
+SPILL	WRITE	1044932000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11935799
+SPILL	COMPRESS_BYTE_COUNT	11935907
+SPILL	SORT_AND_SPILL	18491170000
+SPILL	QUICK_SORT	12540144000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5909074000
+SPILL	WRITE	1079309000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11922790
+SPILL	COMPRESS_BYTE_COUNT	11922898
+SPILL	SORT_AND_SPILL	16950070000
+SPILL	QUICK_SORT	11091268000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	5722890000
+SPILL	WRITE	1099254000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11792853
+SPILL	COMPRESS_BYTE_COUNT	11792961
+SPILL	SORT_AND_SPILL	16241027000
+SPILL	QUICK_SORT	10253472000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5945789000
+SPILL	WRITE	1089197000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11950065
+SPILL	COMPRESS_BYTE_COUNT	11950173
+SPILL	SORT_AND_SPILL	16654157000
+SPILL	QUICK_SORT	10779796000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5749663000
+SPILL	WRITE	1103825000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11957758
+SPILL	COMPRESS_BYTE_COUNT	11957866
+MAP	CLEANUP	45000
+MAP	CLEANUP_MEM	266640792
+MAP	TOTAL_RUN	581034704176
+MAP	READ	2694834000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	117119
+MAP	VALUE_BYTE_COUNT	36844307
+MAP	MAP	578260075176
+MAP	WRITE	529844861176
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	22857122000
+MAP	SERIALIZE_OUTPUT	408412265176
+MAP	MAP_MEM	266640792
+SPILL	SORT_AND_SPILL	11029249000
+SPILL	QUICK_SORT	6398476000
+SPILL	SORT_COUNT	572921
+SPILL	COMBINE	4602200000
+SPILL	WRITE	800178000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	8397498
+SPILL	COMPRESS_BYTE_COUNT	8397606
+MERGE	TOTAL_MERGE	126966401000
+MERGE	READ_WRITE	114948301000
+MERGE	READ_WRITE_COUNT	81
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	719579056176
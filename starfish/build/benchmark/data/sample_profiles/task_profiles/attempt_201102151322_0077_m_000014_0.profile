@@ -0,0 +1,251 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt/part-00118	0
+MAP	STARTUP_MEM	213937200
+MAP	SETUP	504000
+MAP	SETUP_MEM	213937200
+SPILL	SORT_AND_SPILL	18088847000
+SPILL	QUICK_SORT	11544243000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	6046959000
+SPILL	WRITE	1075580000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11861121
+SPILL	COMPRESS_BYTE_COUNT	11861229
+SPILL	SORT_AND_SPILL	15742273000
+SPILL	QUICK_SORT	9904366000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5785326000
+SPILL	WRITE	1113478000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11544579
+SPILL	COMPRESS_BYTE_COUNT	11544687
+SPILL	SORT_AND_SPILL	16997238000
+SPILL	QUICK_SORT	10172250000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5737336000
+SPILL	WRITE	1137937000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11581659
+SPILL	COMPRESS_BYTE_COUNT	11581767
+SPILL	SORT_AND_SPILL	17063267000
+SPILL	QUICK_SORT	11146960000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5875757000
+SPILL	WRITE	1072388000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12157717
+SPILL	COMPRESS_BYTE_COUNT	12157825
+SPILL	SORT_AND_SPILL	17053112000
+SPILL	QUICK_SORT	9900318000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	7026499000
+SPILL	WRITE	1228171000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11622161
+SPILL	COMPRESS_BYTE_COUNT	11622269
+SPILL	SORT_AND_SPILL	16683985000
+SPILL	QUICK_SORT	10790836000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5842968000
+SPILL	WRITE	1116446000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11798516
+SPILL	COMPRESS_BYTE_COUNT	11798624
+SPILL	SORT_AND_SPILL	16814836001
+SPILL	QUICK_SORT	9820994000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5840172001
+SPILL	WRITE	1159401000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12222920
+SPILL	COMPRESS_BYTE_COUNT	12223028
+SPILL	SORT_AND_SPILL	15661861000
+SPILL	QUICK_SORT	9956233000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5667348000
+SPILL	WRITE	1103569000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11388284
+SPILL	COMPRESS_BYTE_COUNT	11388392
+SPILL	SORT_AND_SPILL	16523760000
+SPILL	QUICK_SORT	10335176000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5765189000
+SPILL	WRITE	1071260000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11884748
+SPILL	COMPRESS_BYTE_COUNT	11884856
+SPILL	SORT_AND_SPILL	16397489000
+SPILL	QUICK_SORT	10313606000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	6045569000
+SPILL	WRITE	1107389000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11833086
+SPILL	COMPRESS_BYTE_COUNT	11833194
+SPILL	SORT_AND_SPILL	16894795000
+SPILL	QUICK_SORT	9493416000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	6894900000
+SPILL	WRITE	1139931000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11920443
+SPILL	COMPRESS_BYTE_COUNT	11920551
+SPILL	SORT_AND_SPILL	17487773000
+SPILL	QUICK_SORT	11753971000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5695822000
+SPILL	WRITE	1126022000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11730252
+SPILL	COMPRESS_BYTE_COUNT	11730360
+SPILL	SORT_AND_SPILL	17346354000
+SPILL	QUICK_SORT	9911959000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	7226874000
+SPILL	WRITE	1254507000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11567569
+SPILL	COMPRESS_BYTE_COUNT	11567677
+SPILL	SORT_AND_SPILL	17261948000
+SPILL	QUICK_SORT	11492750000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5710511000
+SPILL	WRITE	1058369000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11814043
+SPILL	COMPRESS_BYTE_COUNT	11814151
+SPILL	SORT_AND_SPILL	16811956000
+SPILL	QUICK_SORT	10358503000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	6338140000
+SPILL	WRITE	1153961000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11546562
+SPILL	COMPRESS_BYTE_COUNT	11546670
+SPILL	SORT_AND_SPILL	15955208000
+SPILL	QUICK_SORT	10257537000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5659605000
+SPILL	WRITE	1047190000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11710020
+SPILL	COMPRESS_BYTE_COUNT	11710128
+SPILL	SORT_AND_SPILL	17686057000
+SPILL	QUICK_SORT	9611535000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	6846573000
+SPILL	WRITE	1370390000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11565990
+SPILL	COMPRESS_BYTE_COUNT	11566098
+SPILL	SORT_AND_SPILL	16823637000
+SPILL	QUICK_SORT	10783102000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	6001375000
+SPILL	WRITE	1080693000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11526662
+SPILL	COMPRESS_BYTE_COUNT	11526770
+SPILL	SORT_AND_SPILL	17171687000
+SPILL	QUICK_SORT	10613469000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	6451443000
+SPILL	WRITE	1202470000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11664724
+SPILL	COMPRESS_BYTE_COUNT	11664832
+SPILL	SORT_AND_SPILL	18158420000
+SPILL	QUICK_SORT	11722331000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	6398062000
+SPILL	WRITE	1446594000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11740526
+SPILL	COMPRESS_BYTE_COUNT	11740634
+SPILL	SORT_AND_SPILL	17270556000
+SPILL	QUICK_SORT	11035786000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	6093211000
+SPILL	WRITE	1219199000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11772711
+SPILL	COMPRESS_BYTE_COUNT	11772819
+SPILL	SORT_AND_SPILL	15700576000
+SPILL	QUICK_SORT	9752491000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5911205000
+SPILL	WRITE	1104544000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11930276
+SPILL	COMPRESS_BYTE_COUNT	11930384
+SPILL	SORT_AND_SPILL	17165545000
+SPILL	QUICK_SORT	10235044000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	6824014000
+SPILL	WRITE	1446663000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	10304166
+SPILL	COMPRESS_BYTE_COUNT	10304274
+SPILL	SORT_AND_SPILL	15771182000
+SPILL	QUICK_SORT	9911080000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5820805000
+SPILL	WRITE	1001295000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	10820809
+SPILL	COMPRESS_BYTE_COUNT	10820917
+SPILL	SORT_AND_SPILL	15770927000
+SPILL	QUICK_SORT	9843948000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	5637806000
+SPILL	WRITE	1032251000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11205561
+SPILL	COMPRESS_BYTE_COUNT	11205669
+SPILL	SORT_AND_SPILL	15981236000
+SPILL	QUICK_SORT	9133664000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	6795788000
+SPILL	WRITE	1151361000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	10650242
+SPILL	COMPRESS_BYTE_COUNT	10650350
+MAP	CLEANUP	602212000
+MAP	CLEANUP_MEM	275997928
+MAP	TOTAL_RUN	548686843001
+MAP	READ	722925000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	159127
+MAP	VALUE_BYTE_COUNT	36585099
+MAP	MAP	547211132001
+MAP	WRITE	508381505001
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	25275387000
+MAP	SERIALIZE_OUTPUT	404388766001
+MAP	MAP_MEM	275997928
+SPILL	SORT_AND_SPILL	20889562000
+SPILL	QUICK_SORT	12431357000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5584615000
+SPILL	WRITE	1100621000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	10839961
+SPILL	COMPRESS_BYTE_COUNT	10840069
+SPILL	SORT_AND_SPILL	6243924000
+SPILL	QUICK_SORT	2156171000
+SPILL	SORT_COUNT	207121
+SPILL	COMBINE	4055615000
+SPILL	WRITE	2425834000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	3137880
+SPILL	COMPRESS_BYTE_COUNT	3137988
+MERGE	TOTAL_MERGE	154795043000
+MERGE	READ_WRITE	145530344000
+MERGE	READ_WRITE_COUNT	81
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	727102001001
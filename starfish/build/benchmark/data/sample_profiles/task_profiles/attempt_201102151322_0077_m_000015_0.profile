@@ -0,0 +1,243 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt/part-00117	0
+MAP	STARTUP_MEM	214771480
+MAP	SETUP	600000
+MAP	SETUP_MEM	214771480
+SPILL	SORT_AND_SPILL	17256381000
+SPILL	QUICK_SORT	10183503000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	5715235000
+SPILL	WRITE	1085087000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11001586
+SPILL	COMPRESS_BYTE_COUNT	11001694
+SPILL	SORT_AND_SPILL	17078403000
+SPILL	QUICK_SORT	11316301000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5723591000
+SPILL	WRITE	1087754000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11527881
+SPILL	COMPRESS_BYTE_COUNT	11527989
+SPILL	SORT_AND_SPILL	16671504000
+SPILL	QUICK_SORT	9896048000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	6129916000
+SPILL	WRITE	1124027000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11833879
+SPILL	COMPRESS_BYTE_COUNT	11833987
+SPILL	SORT_AND_SPILL	15507098000
+SPILL	QUICK_SORT	9666451000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5802356000
+SPILL	WRITE	1137225000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11785601
+SPILL	COMPRESS_BYTE_COUNT	11785709
+SPILL	SORT_AND_SPILL	17849610000
+SPILL	QUICK_SORT	10601700000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	5902783000
+SPILL	WRITE	1176688000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12101538
+SPILL	COMPRESS_BYTE_COUNT	12101646
+SPILL	SORT_AND_SPILL	16996219000
+SPILL	QUICK_SORT	10958900000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5979702000
+SPILL	WRITE	1166323000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11840152
+SPILL	COMPRESS_BYTE_COUNT	11840260
+SPILL	SORT_AND_SPILL	16444538000
+SPILL	QUICK_SORT	10800378000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5498694000
+SPILL	WRITE	1073171000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11279802
+SPILL	COMPRESS_BYTE_COUNT	11279910
+SPILL	SORT_AND_SPILL	16591269000
+SPILL	QUICK_SORT	11027425000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5516157000
+SPILL	WRITE	1036307000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11041960
+SPILL	COMPRESS_BYTE_COUNT	11042068
+SPILL	SORT_AND_SPILL	16513352000
+SPILL	QUICK_SORT	9650196000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	6373411000
+SPILL	WRITE	1529245000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	10760826
+SPILL	COMPRESS_BYTE_COUNT	10760934
+SPILL	SORT_AND_SPILL	15202176000
+SPILL	QUICK_SORT	9407181000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	5753188000
+SPILL	WRITE	1107415000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	10477070
+SPILL	COMPRESS_BYTE_COUNT	10477178
+SPILL	SORT_AND_SPILL	16399224000
+SPILL	QUICK_SORT	9830680000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5621449000
+SPILL	WRITE	1069433000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11289182
+SPILL	COMPRESS_BYTE_COUNT	11289290
+SPILL	SORT_AND_SPILL	17812838000
+SPILL	QUICK_SORT	11376160000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	6276175000
+SPILL	WRITE	1233026000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	10722561
+SPILL	COMPRESS_BYTE_COUNT	10722669
+SPILL	SORT_AND_SPILL	17793302000
+SPILL	QUICK_SORT	10809823000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	6471660000
+SPILL	WRITE	1302755000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11988487
+SPILL	COMPRESS_BYTE_COUNT	11988595
+SPILL	SORT_AND_SPILL	18510377000
+SPILL	QUICK_SORT	10655347000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	7808475000
+SPILL	WRITE	1343828000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11656819
+SPILL	COMPRESS_BYTE_COUNT	11656927
+SPILL	SORT_AND_SPILL	16728691000
+SPILL	QUICK_SORT	10357040000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	6248333000
+SPILL	WRITE	1201694000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	10666255
+SPILL	COMPRESS_BYTE_COUNT	10666363
+SPILL	SORT_AND_SPILL	16332221000
+SPILL	QUICK_SORT	9578310000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	6694314000
+SPILL	WRITE	1184267000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	10268146
+SPILL	COMPRESS_BYTE_COUNT	10268254
+SPILL	SORT_AND_SPILL	16588546000
+SPILL	QUICK_SORT	9861831000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5544130000
+SPILL	WRITE	1021782000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11010440
+SPILL	COMPRESS_BYTE_COUNT	11010548
+SPILL	SORT_AND_SPILL	20497775000
+SPILL	QUICK_SORT	10424447000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10035426000
+SPILL	WRITE	2166263000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11496847
+SPILL	COMPRESS_BYTE_COUNT	11496955
+SPILL	SORT_AND_SPILL	17573101000
+SPILL	QUICK_SORT	9645705000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	7055417000
+SPILL	WRITE	1201352000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12029662
+SPILL	COMPRESS_BYTE_COUNT	12029770
+SPILL	SORT_AND_SPILL	17255078000
+SPILL	QUICK_SORT	11151557000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	6065757000
+SPILL	WRITE	1149820000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11646064
+SPILL	COMPRESS_BYTE_COUNT	11646172
+SPILL	SORT_AND_SPILL	17092660000
+SPILL	QUICK_SORT	9409300000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	6523758000
+SPILL	WRITE	1113558000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11925333
+SPILL	COMPRESS_BYTE_COUNT	11925441
+SPILL	SORT_AND_SPILL	17798946000
+SPILL	QUICK_SORT	11806681000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5954563000
+SPILL	WRITE	1075643000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11578296
+SPILL	COMPRESS_BYTE_COUNT	11578404
+SPILL	SORT_AND_SPILL	16043042000
+SPILL	QUICK_SORT	10445630000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5367536000
+SPILL	WRITE	1027170000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	10705419
+SPILL	COMPRESS_BYTE_COUNT	10705527
+SPILL	SORT_AND_SPILL	14968707000
+SPILL	QUICK_SORT	9355163000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5565656000
+SPILL	WRITE	1024200000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11046677
+SPILL	COMPRESS_BYTE_COUNT	11046785
+SPILL	SORT_AND_SPILL	16819867000
+SPILL	QUICK_SORT	10776357000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	5922359000
+SPILL	WRITE	1200503000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11783156
+SPILL	COMPRESS_BYTE_COUNT	11783264
+SPILL	SORT_AND_SPILL	15563506000
+SPILL	QUICK_SORT	9711507000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5815179000
+SPILL	WRITE	1089236000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11761969
+SPILL	COMPRESS_BYTE_COUNT	11762077
+MAP	CLEANUP	34000
+MAP	CLEANUP_MEM	211210008
+MAP	TOTAL_RUN	541945124000
+MAP	READ	729294000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	170978
+MAP	VALUE_BYTE_COUNT	36056709
+MAP	MAP	541123159000
+MAP	WRITE	504533361000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	23724530000
+MAP	SERIALIZE_OUTPUT	395631134000
+MAP	MAP_MEM	211212056
+SPILL	SORT_AND_SPILL	9021604000
+SPILL	QUICK_SORT	5234691000
+SPILL	SORT_COUNT	491800
+SPILL	COMBINE	3562243000
+SPILL	WRITE	736409000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	6858541
+SPILL	COMPRESS_BYTE_COUNT	6858649
+MERGE	TOTAL_MERGE	88623808000
+MERGE	READ_WRITE	87236471000
+MERGE	READ_WRITE_COUNT	81
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	640051652000
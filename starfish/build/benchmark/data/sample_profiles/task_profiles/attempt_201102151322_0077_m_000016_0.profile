@@ -0,0 +1,243 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt/part-00115	0
+MAP	STARTUP_MEM	213952744
+MAP	SETUP	519000
+MAP	SETUP_MEM	213952744
+SPILL	SORT_AND_SPILL	18560540000
+SPILL	QUICK_SORT	11009656000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	7034015000
+SPILL	WRITE	1397238000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12059446
+SPILL	COMPRESS_BYTE_COUNT	12059554
+SPILL	SORT_AND_SPILL	17808748000
+SPILL	QUICK_SORT	11751704000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5993298000
+SPILL	WRITE	1082984000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11853878
+SPILL	COMPRESS_BYTE_COUNT	11853986
+SPILL	SORT_AND_SPILL	17540327000
+SPILL	QUICK_SORT	11139637000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	6087084000
+SPILL	WRITE	1152524000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11858390
+SPILL	COMPRESS_BYTE_COUNT	11858498
+SPILL	SORT_AND_SPILL	15588677000
+SPILL	QUICK_SORT	10145472000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5403404000
+SPILL	WRITE	1040623000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	10209097
+SPILL	COMPRESS_BYTE_COUNT	10209205
+SPILL	SORT_AND_SPILL	14937540000
+SPILL	QUICK_SORT	9588000000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	5226237000
+SPILL	WRITE	938514000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	9293733
+SPILL	COMPRESS_BYTE_COUNT	9293841
+SPILL	SORT_AND_SPILL	17551887000
+SPILL	QUICK_SORT	11472416000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	6037980000
+SPILL	WRITE	1143384000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11757043
+SPILL	COMPRESS_BYTE_COUNT	11757151
+SPILL	SORT_AND_SPILL	16881490000
+SPILL	QUICK_SORT	10395515000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	6051427000
+SPILL	WRITE	1122308000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11856849
+SPILL	COMPRESS_BYTE_COUNT	11856957
+SPILL	SORT_AND_SPILL	16168345000
+SPILL	QUICK_SORT	10128984000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5996136000
+SPILL	WRITE	1124174000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11732712
+SPILL	COMPRESS_BYTE_COUNT	11732820
+SPILL	SORT_AND_SPILL	17190255000
+SPILL	QUICK_SORT	10134791000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	6009530000
+SPILL	WRITE	1178972000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11828536
+SPILL	COMPRESS_BYTE_COUNT	11828644
+SPILL	SORT_AND_SPILL	17645432000
+SPILL	QUICK_SORT	11166157000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	6291346000
+SPILL	WRITE	1125300000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11914833
+SPILL	COMPRESS_BYTE_COUNT	11914941
+SPILL	SORT_AND_SPILL	17436075000
+SPILL	QUICK_SORT	9957614000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	6800579000
+SPILL	WRITE	1164222000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11684942
+SPILL	COMPRESS_BYTE_COUNT	11685050
+SPILL	SORT_AND_SPILL	16479574000
+SPILL	QUICK_SORT	9793318000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	6627650000
+SPILL	WRITE	1200326000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	10277470
+SPILL	COMPRESS_BYTE_COUNT	10277578
+SPILL	SORT_AND_SPILL	16614103000
+SPILL	QUICK_SORT	9923559000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5853968000
+SPILL	WRITE	1069091000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11654916
+SPILL	COMPRESS_BYTE_COUNT	11655024
+SPILL	SORT_AND_SPILL	16213649000
+SPILL	QUICK_SORT	9888479000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	6286888000
+SPILL	WRITE	1161604000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11608484
+SPILL	COMPRESS_BYTE_COUNT	11608592
+SPILL	SORT_AND_SPILL	19062680000
+SPILL	QUICK_SORT	9832788000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	8074641000
+SPILL	WRITE	1336408000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11169917
+SPILL	COMPRESS_BYTE_COUNT	11170025
+SPILL	SORT_AND_SPILL	15764143000
+SPILL	QUICK_SORT	10344314000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5381725000
+SPILL	WRITE	958611000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	10482507
+SPILL	COMPRESS_BYTE_COUNT	10482615
+SPILL	SORT_AND_SPILL	16601344000
+SPILL	QUICK_SORT	10607279000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5896799000
+SPILL	WRITE	1100070000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	9933246
+SPILL	COMPRESS_BYTE_COUNT	9933354
+SPILL	SORT_AND_SPILL	16868692000
+SPILL	QUICK_SORT	11019276000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5805571000
+SPILL	WRITE	1090161000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	10812517
+SPILL	COMPRESS_BYTE_COUNT	10812625
+SPILL	SORT_AND_SPILL	18012962000
+SPILL	QUICK_SORT	10946449000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	6928289000
+SPILL	WRITE	1350171000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	10344533
+SPILL	COMPRESS_BYTE_COUNT	10344641
+SPILL	SORT_AND_SPILL	16086719000
+SPILL	QUICK_SORT	10201192000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	5827659000
+SPILL	WRITE	1148292000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	10923254
+SPILL	COMPRESS_BYTE_COUNT	10923362
+SPILL	SORT_AND_SPILL	14489708000
+SPILL	QUICK_SORT	9084539000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5306728000
+SPILL	WRITE	984211000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	9949012
+SPILL	COMPRESS_BYTE_COUNT	9949120
+SPILL	SORT_AND_SPILL	11201219000
+SPILL	QUICK_SORT	7287760000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	3877689000
+SPILL	WRITE	622948000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	5998814
+SPILL	COMPRESS_BYTE_COUNT	5998922
+SPILL	SORT_AND_SPILL	15123544000
+SPILL	QUICK_SORT	9307960000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5359642000
+SPILL	WRITE	907788000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	9937322
+SPILL	COMPRESS_BYTE_COUNT	9937430
+SPILL	SORT_AND_SPILL	16238742000
+SPILL	QUICK_SORT	10711722000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5487210000
+SPILL	WRITE	1003503000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	10661376
+SPILL	COMPRESS_BYTE_COUNT	10661484
+SPILL	SORT_AND_SPILL	15221763000
+SPILL	QUICK_SORT	8869143000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	5750068000
+SPILL	WRITE	898289000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	9454683
+SPILL	COMPRESS_BYTE_COUNT	9454791
+SPILL	SORT_AND_SPILL	17398426000
+SPILL	QUICK_SORT	10203935000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	7107821000
+SPILL	WRITE	1621979000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	10446578
+SPILL	COMPRESS_BYTE_COUNT	10446686
+MAP	CLEANUP	55000
+MAP	CLEANUP_MEM	275599416
+MAP	TOTAL_RUN	535148818282
+MAP	READ	616428000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	176300
+MAP	VALUE_BYTE_COUNT	35951117
+MAP	MAP	534429872282
+MAP	WRITE	498060265282
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	33611106282
+MAP	SERIALIZE_OUTPUT	394431611000
+MAP	MAP_MEM	275599416
+SPILL	SORT_AND_SPILL	8425798000
+SPILL	QUICK_SORT	4989518000
+SPILL	SORT_COUNT	475622
+SPILL	COMBINE	3361889000
+SPILL	WRITE	629844000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	6070118
+SPILL	COMPRESS_BYTE_COUNT	6070226
+MERGE	TOTAL_MERGE	99992671000
+MERGE	READ_WRITE	98485779000
+MERGE	READ_WRITE_COUNT	81
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	644064376282
@@ -0,0 +1,235 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt/part-00116	0
+MAP	STARTUP_MEM	214758840
+MAP	SETUP	553000
+MAP	SETUP_MEM	214758840
+SPILL	SORT_AND_SPILL	18524652000
+SPILL	QUICK_SORT	11609316000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	6747074000
+SPILL	WRITE	1237201000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	10854290
+SPILL	COMPRESS_BYTE_COUNT	10854398
+SPILL	SORT_AND_SPILL	17967034000
+SPILL	QUICK_SORT	10661147000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	7241427000
+SPILL	WRITE	1291427000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11189234
+SPILL	COMPRESS_BYTE_COUNT	11189342
+SPILL	SORT_AND_SPILL	18536997529
+SPILL	QUICK_SORT	11459246529
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	6626782000
+SPILL	WRITE	1229744000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	10244753
+SPILL	COMPRESS_BYTE_COUNT	10244861
+SPILL	SORT_AND_SPILL	16987475000
+SPILL	QUICK_SORT	10718967000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	6230477000
+SPILL	WRITE	1129552000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	10269960
+SPILL	COMPRESS_BYTE_COUNT	10270068
+SPILL	SORT_AND_SPILL	19396238426
+SPILL	QUICK_SORT	12447301000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	6440125426
+SPILL	WRITE	1190929426
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	10867819
+SPILL	COMPRESS_BYTE_COUNT	10867927
+SPILL	SORT_AND_SPILL	15058147000
+SPILL	QUICK_SORT	9134703000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5886777000
+SPILL	WRITE	1035483000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	9482172
+SPILL	COMPRESS_BYTE_COUNT	9482280
+SPILL	SORT_AND_SPILL	17723908000
+SPILL	QUICK_SORT	9941543000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	7316954000
+SPILL	WRITE	1791549000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	10634166
+SPILL	COMPRESS_BYTE_COUNT	10634274
+SPILL	SORT_AND_SPILL	19577375729
+SPILL	QUICK_SORT	11516431729
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	8020597000
+SPILL	WRITE	1327045000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11229389
+SPILL	COMPRESS_BYTE_COUNT	11229497
+SPILL	SORT_AND_SPILL	16804804000
+SPILL	QUICK_SORT	10194662000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	6467551000
+SPILL	WRITE	1039710000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	9871821
+SPILL	COMPRESS_BYTE_COUNT	9871929
+SPILL	SORT_AND_SPILL	15989052000
+SPILL	QUICK_SORT	9914058000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	6036007000
+SPILL	WRITE	947600000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	9905382
+SPILL	COMPRESS_BYTE_COUNT	9905490
+SPILL	SORT_AND_SPILL	16495850000
+SPILL	QUICK_SORT	9739448000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	6488387000
+SPILL	WRITE	1239840000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	10547094
+SPILL	COMPRESS_BYTE_COUNT	10547202
+SPILL	SORT_AND_SPILL	19638183000
+SPILL	QUICK_SORT	11526889000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	7861377000
+SPILL	WRITE	1419514000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11265186
+SPILL	COMPRESS_BYTE_COUNT	11265294
+SPILL	SORT_AND_SPILL	19688955578
+SPILL	QUICK_SORT	9431065578
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	8372021000
+SPILL	WRITE	1728666000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	10780878
+SPILL	COMPRESS_BYTE_COUNT	10780986
+SPILL	SORT_AND_SPILL	18155531000
+SPILL	QUICK_SORT	11066863000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	7009229000
+SPILL	WRITE	1346066000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	10436528
+SPILL	COMPRESS_BYTE_COUNT	10436636
+SPILL	SORT_AND_SPILL	17854064000
+SPILL	QUICK_SORT	10168367000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	6732938000
+SPILL	WRITE	1239485000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11549209
+SPILL	COMPRESS_BYTE_COUNT	11549317
+SPILL	SORT_AND_SPILL	16465732729
+SPILL	QUICK_SORT	9650679729
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	6729107000
+SPILL	WRITE	1139768000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11546846
+SPILL	COMPRESS_BYTE_COUNT	11546954
+SPILL	SORT_AND_SPILL	18254841000
+SPILL	QUICK_SORT	10367932000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	7168343000
+SPILL	WRITE	1297496000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11292230
+SPILL	COMPRESS_BYTE_COUNT	11292338
+SPILL	SORT_AND_SPILL	16859057426
+SPILL	QUICK_SORT	9977990000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	6841272426
+SPILL	WRITE	1304389000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11648343
+SPILL	COMPRESS_BYTE_COUNT	11648451
+SPILL	SORT_AND_SPILL	16849795000
+SPILL	QUICK_SORT	9845947000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	6699648000
+SPILL	WRITE	1218136000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11017232
+SPILL	COMPRESS_BYTE_COUNT	11017340
+SPILL	SORT_AND_SPILL	16428269000
+SPILL	QUICK_SORT	10024543000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	6366265000
+SPILL	WRITE	1129811000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11696911
+SPILL	COMPRESS_BYTE_COUNT	11697019
+SPILL	SORT_AND_SPILL	15573702729
+SPILL	QUICK_SORT	9369868000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	6104892729
+SPILL	WRITE	1073576000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11093916
+SPILL	COMPRESS_BYTE_COUNT	11094024
+SPILL	SORT_AND_SPILL	14953887000
+SPILL	QUICK_SORT	9049786000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5867504000
+SPILL	WRITE	1013879000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	10397052
+SPILL	COMPRESS_BYTE_COUNT	10397160
+SPILL	SORT_AND_SPILL	15713496000
+SPILL	QUICK_SORT	9342053000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	6277840000
+SPILL	WRITE	1098462000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11531543
+SPILL	COMPRESS_BYTE_COUNT	11531651
+SPILL	SORT_AND_SPILL	15577761577
+SPILL	QUICK_SORT	9236941000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	6304355577
+SPILL	WRITE	1115475000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11672223
+SPILL	COMPRESS_BYTE_COUNT	11672331
+SPILL	SORT_AND_SPILL	16258501000
+SPILL	QUICK_SORT	9692130000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	6422926000
+SPILL	WRITE	1124566000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11609538
+SPILL	COMPRESS_BYTE_COUNT	11609646
+MAP	CLEANUP	116000
+MAP	CLEANUP_MEM	218574688
+MAP	TOTAL_RUN	563632009148
+MAP	READ	5787192000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	226573
+MAP	VALUE_BYTE_COUNT	35345678
+MAP	MAP	557694400148
+MAP	WRITE	514402504148
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	35842513000
+MAP	SERIALIZE_OUTPUT	361931716890
+MAP	MAP_MEM	218820704
+SPILL	SORT_AND_SPILL	12812158000
+SPILL	QUICK_SORT	7489861000
+SPILL	SORT_COUNT	688671
+SPILL	COMBINE	5291163000
+SPILL	WRITE	937160000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	9794403
+SPILL	COMPRESS_BYTE_COUNT	9794511
+MERGE	TOTAL_MERGE	75456624426
+MERGE	READ_WRITE	74484847426
+MERGE	READ_WRITE_COUNT	81
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	652425572574
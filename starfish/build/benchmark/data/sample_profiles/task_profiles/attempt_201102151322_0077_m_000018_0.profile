@@ -0,0 +1,235 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt/part-00126	0
+MAP	STARTUP_MEM	214812416
+MAP	SETUP	517000
+MAP	SETUP_MEM	214812416
+SPILL	SORT_AND_SPILL	16447959000
+SPILL	QUICK_SORT	10727748000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	5578190000
+SPILL	WRITE	1086706000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	10956210
+SPILL	COMPRESS_BYTE_COUNT	10956318
+SPILL	SORT_AND_SPILL	16690428000
+SPILL	QUICK_SORT	9640346000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	6321429000
+SPILL	WRITE	1418441000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11739092
+SPILL	COMPRESS_BYTE_COUNT	11739200
+SPILL	SORT_AND_SPILL	16514592000
+SPILL	QUICK_SORT	11057692000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5346437000
+SPILL	WRITE	1018770000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	10722292
+SPILL	COMPRESS_BYTE_COUNT	10722400
+SPILL	SORT_AND_SPILL	15737471000
+SPILL	QUICK_SORT	10051824000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5649423000
+SPILL	WRITE	1098276000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11536784
+SPILL	COMPRESS_BYTE_COUNT	11536892
+SPILL	SORT_AND_SPILL	17575130000
+SPILL	QUICK_SORT	11195174000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	5758692000
+SPILL	WRITE	1103954000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11537203
+SPILL	COMPRESS_BYTE_COUNT	11537311
+SPILL	SORT_AND_SPILL	16816390000
+SPILL	QUICK_SORT	10639879000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	6140272000
+SPILL	WRITE	1079974000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11895047
+SPILL	COMPRESS_BYTE_COUNT	11895155
+SPILL	SORT_AND_SPILL	17171101000
+SPILL	QUICK_SORT	10008427000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5770608000
+SPILL	WRITE	1124875000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11888920
+SPILL	COMPRESS_BYTE_COUNT	11889028
+SPILL	SORT_AND_SPILL	17078443000
+SPILL	QUICK_SORT	11293741000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5747861000
+SPILL	WRITE	1093146000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11876874
+SPILL	COMPRESS_BYTE_COUNT	11876982
+SPILL	SORT_AND_SPILL	16563468000
+SPILL	QUICK_SORT	10946322000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5525352000
+SPILL	WRITE	1107539000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	10760856
+SPILL	COMPRESS_BYTE_COUNT	10760964
+SPILL	SORT_AND_SPILL	16515017000
+SPILL	QUICK_SORT	10141156000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	6337620000
+SPILL	WRITE	1134663000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11196341
+SPILL	COMPRESS_BYTE_COUNT	11196449
+SPILL	SORT_AND_SPILL	16891988000
+SPILL	QUICK_SORT	10520769000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5770581000
+SPILL	WRITE	1118991000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11902999
+SPILL	COMPRESS_BYTE_COUNT	11903107
+SPILL	SORT_AND_SPILL	16752057000
+SPILL	QUICK_SORT	10992437000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5723674000
+SPILL	WRITE	1104506000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11892602
+SPILL	COMPRESS_BYTE_COUNT	11892710
+SPILL	SORT_AND_SPILL	17367337000
+SPILL	QUICK_SORT	11421800000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5670497000
+SPILL	WRITE	1064607000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11680302
+SPILL	COMPRESS_BYTE_COUNT	11680410
+SPILL	SORT_AND_SPILL	15594806000
+SPILL	QUICK_SORT	10065699000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5493811000
+SPILL	WRITE	1020164000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11049271
+SPILL	COMPRESS_BYTE_COUNT	11049379
+SPILL	SORT_AND_SPILL	16453817000
+SPILL	QUICK_SORT	9441591000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	5686768000
+SPILL	WRITE	1034505000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11225149
+SPILL	COMPRESS_BYTE_COUNT	11225257
+SPILL	SORT_AND_SPILL	16781209000
+SPILL	QUICK_SORT	11178678000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5555623000
+SPILL	WRITE	1040297000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11419843
+SPILL	COMPRESS_BYTE_COUNT	11419951
+SPILL	SORT_AND_SPILL	16870216000
+SPILL	QUICK_SORT	10350374000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5634405000
+SPILL	WRITE	1046578000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11212724
+SPILL	COMPRESS_BYTE_COUNT	11212832
+SPILL	SORT_AND_SPILL	15915940000
+SPILL	QUICK_SORT	9823531000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	6055783000
+SPILL	WRITE	1116880000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11494373
+SPILL	COMPRESS_BYTE_COUNT	11494481
+SPILL	SORT_AND_SPILL	16354901000
+SPILL	QUICK_SORT	9752954000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5510422000
+SPILL	WRITE	1046449000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11227661
+SPILL	COMPRESS_BYTE_COUNT	11227769
+SPILL	SORT_AND_SPILL	16618703000
+SPILL	QUICK_SORT	10802655000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	5778416000
+SPILL	WRITE	1104039000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11973096
+SPILL	COMPRESS_BYTE_COUNT	11973204
+SPILL	SORT_AND_SPILL	16430583000
+SPILL	QUICK_SORT	10021229000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5782470000
+SPILL	WRITE	1068400000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11663452
+SPILL	COMPRESS_BYTE_COUNT	11663560
+SPILL	SORT_AND_SPILL	16669620000
+SPILL	QUICK_SORT	10796776000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5825314000
+SPILL	WRITE	1123154000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11838839
+SPILL	COMPRESS_BYTE_COUNT	11838947
+SPILL	SORT_AND_SPILL	17533259000
+SPILL	QUICK_SORT	11123980000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	6306436000
+SPILL	WRITE	1247462000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11648154
+SPILL	COMPRESS_BYTE_COUNT	11648262
+SPILL	SORT_AND_SPILL	16694238000
+SPILL	QUICK_SORT	10605354000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	6035735000
+SPILL	WRITE	1166884000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11907253
+SPILL	COMPRESS_BYTE_COUNT	11907361
+SPILL	SORT_AND_SPILL	16073598000
+SPILL	QUICK_SORT	9960175000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	5858041000
+SPILL	WRITE	1098358000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11306348
+SPILL	COMPRESS_BYTE_COUNT	11306456
+MAP	CLEANUP	48000
+MAP	CLEANUP_MEM	233880144
+MAP	TOTAL_RUN	519147844000
+MAP	READ	620412000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	120764
+MAP	VALUE_BYTE_COUNT	33770819
+MAP	MAP	518450385000
+MAP	WRITE	484883315000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	23723230000
+MAP	SERIALIZE_OUTPUT	353071066000
+MAP	MAP_MEM	233880144
+SPILL	SORT_AND_SPILL	3529826000
+SPILL	QUICK_SORT	1972169000
+SPILL	SORT_COUNT	234815
+SPILL	COMBINE	1545100000
+SPILL	WRITE	289905000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	2796574
+SPILL	COMPRESS_BYTE_COUNT	2796682
+MERGE	TOTAL_MERGE	85257895000
+MERGE	READ_WRITE	84220263000
+MERGE	READ_WRITE_COUNT	81
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	608395779000
@@ -0,0 +1,227 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt/part-00122	0
+MAP	STARTUP_MEM	214801520
+MAP	SETUP	517000
+MAP	SETUP_MEM	214801520
+SPILL	SORT_AND_SPILL	17961015000
+SPILL	QUICK_SORT	11749163000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	5992448000
+SPILL	WRITE	1143143000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12066456
+SPILL	COMPRESS_BYTE_COUNT	12066564
+SPILL	SORT_AND_SPILL	17101865000
+SPILL	QUICK_SORT	11351898000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5712609000
+SPILL	WRITE	1059702000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11511975
+SPILL	COMPRESS_BYTE_COUNT	11512083
+SPILL	SORT_AND_SPILL	17930999000
+SPILL	QUICK_SORT	11084501000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5728438000
+SPILL	WRITE	1091138000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11847655
+SPILL	COMPRESS_BYTE_COUNT	11847763
+SPILL	SORT_AND_SPILL	16851263000
+SPILL	QUICK_SORT	10912592000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5902392000
+SPILL	WRITE	1121625000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11836047
+SPILL	COMPRESS_BYTE_COUNT	11836155
+SPILL	SORT_AND_SPILL	16563378000
+SPILL	QUICK_SORT	10664156000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	5766336000
+SPILL	WRITE	1062648000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11790615
+SPILL	COMPRESS_BYTE_COUNT	11790723
+SPILL	SORT_AND_SPILL	16466984000
+SPILL	QUICK_SORT	10657894000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5773160000
+SPILL	WRITE	1053631000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11950160
+SPILL	COMPRESS_BYTE_COUNT	11950268
+SPILL	SORT_AND_SPILL	16172972000
+SPILL	QUICK_SORT	9577138000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5651349000
+SPILL	WRITE	1057297000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11766424
+SPILL	COMPRESS_BYTE_COUNT	11766532
+SPILL	SORT_AND_SPILL	16558454000
+SPILL	QUICK_SORT	10860525000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5662113000
+SPILL	WRITE	1067642000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11748513
+SPILL	COMPRESS_BYTE_COUNT	11748621
+SPILL	SORT_AND_SPILL	15589334000
+SPILL	QUICK_SORT	9451071000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5637447000
+SPILL	WRITE	1051574000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11682430
+SPILL	COMPRESS_BYTE_COUNT	11682538
+SPILL	SORT_AND_SPILL	17082480000
+SPILL	QUICK_SORT	11192882000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	5831371000
+SPILL	WRITE	1096430000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12020695
+SPILL	COMPRESS_BYTE_COUNT	12020803
+SPILL	SORT_AND_SPILL	16903371000
+SPILL	QUICK_SORT	9607160000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5995803000
+SPILL	WRITE	1083167000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12119321
+SPILL	COMPRESS_BYTE_COUNT	12119429
+SPILL	SORT_AND_SPILL	17795953000
+SPILL	QUICK_SORT	10689122000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	7069804000
+SPILL	WRITE	1329261000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11975263
+SPILL	COMPRESS_BYTE_COUNT	11975371
+SPILL	SORT_AND_SPILL	16780869000
+SPILL	QUICK_SORT	10038020000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5742846000
+SPILL	WRITE	1091475000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11816148
+SPILL	COMPRESS_BYTE_COUNT	11816256
+SPILL	SORT_AND_SPILL	16403771000
+SPILL	QUICK_SORT	10411499000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5955099000
+SPILL	WRITE	1066701000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11602254
+SPILL	COMPRESS_BYTE_COUNT	11602362
+SPILL	SORT_AND_SPILL	18042882000
+SPILL	QUICK_SORT	10921589000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	6718555000
+SPILL	WRITE	1340823000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11622257
+SPILL	COMPRESS_BYTE_COUNT	11622365
+SPILL	SORT_AND_SPILL	17207414000
+SPILL	QUICK_SORT	10551709000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	6619180000
+SPILL	WRITE	1169559000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11636403
+SPILL	COMPRESS_BYTE_COUNT	11636511
+SPILL	SORT_AND_SPILL	17478190000
+SPILL	QUICK_SORT	10257095000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	6293884000
+SPILL	WRITE	1260119000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11855528
+SPILL	COMPRESS_BYTE_COUNT	11855636
+SPILL	SORT_AND_SPILL	15451523000
+SPILL	QUICK_SORT	9746054000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5668947000
+SPILL	WRITE	1041869000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11779378
+SPILL	COMPRESS_BYTE_COUNT	11779486
+SPILL	SORT_AND_SPILL	16516061000
+SPILL	QUICK_SORT	10129824000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5791544000
+SPILL	WRITE	1073034000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11812081
+SPILL	COMPRESS_BYTE_COUNT	11812189
+SPILL	SORT_AND_SPILL	15839301000
+SPILL	QUICK_SORT	10104950000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	5698816000
+SPILL	WRITE	1083460000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11640304
+SPILL	COMPRESS_BYTE_COUNT	11640412
+SPILL	SORT_AND_SPILL	16875153000
+SPILL	QUICK_SORT	10121439000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5627912000
+SPILL	WRITE	1035537000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11465142
+SPILL	COMPRESS_BYTE_COUNT	11465250
+SPILL	SORT_AND_SPILL	15899542000
+SPILL	QUICK_SORT	9958784000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5904668000
+SPILL	WRITE	1240868000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11808479
+SPILL	COMPRESS_BYTE_COUNT	11808587
+SPILL	SORT_AND_SPILL	14812839000
+SPILL	QUICK_SORT	8855415000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5209535000
+SPILL	WRITE	926452000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	10232134
+SPILL	COMPRESS_BYTE_COUNT	10232242
+SPILL	SORT_AND_SPILL	16752644000
+SPILL	QUICK_SORT	11129925000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5586603000
+SPILL	WRITE	1035099000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11579259
+SPILL	COMPRESS_BYTE_COUNT	11579367
+MAP	CLEANUP	108000
+MAP	CLEANUP_MEM	219712248
+MAP	TOTAL_RUN	508609653000
+MAP	READ	713601000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	129555
+MAP	VALUE_BYTE_COUNT	32977947
+MAP	MAP	507822144000
+MAP	WRITE	472048052000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	27089832000
+MAP	SERIALIZE_OUTPUT	367896172000
+MAP	MAP_MEM	219712248
+SPILL	SORT_AND_SPILL	9156508000
+SPILL	QUICK_SORT	5536939000
+SPILL	SORT_COUNT	513001
+SPILL	COMBINE	3508167000
+SPILL	WRITE	687774000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7286326
+SPILL	COMPRESS_BYTE_COUNT	7286434
+MERGE	TOTAL_MERGE	91659880000
+MERGE	READ_WRITE	88188121000
+MERGE	READ_WRITE_COUNT	81
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	609925707000
@@ -0,0 +1,227 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt/part-00119	0
+MAP	STARTUP_MEM	214798776
+MAP	SETUP	509000
+MAP	SETUP_MEM	214798776
+SPILL	SORT_AND_SPILL	17284201000
+SPILL	QUICK_SORT	11281301000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	5857421000
+SPILL	WRITE	1074899000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11288824
+SPILL	COMPRESS_BYTE_COUNT	11288932
+SPILL	SORT_AND_SPILL	15764070000
+SPILL	QUICK_SORT	10410004000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5316626000
+SPILL	WRITE	1056235000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	10313638
+SPILL	COMPRESS_BYTE_COUNT	10313746
+SPILL	SORT_AND_SPILL	15767167000
+SPILL	QUICK_SORT	10646425000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5008801000
+SPILL	WRITE	922140000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	9633470
+SPILL	COMPRESS_BYTE_COUNT	9633578
+SPILL	SORT_AND_SPILL	15592216000
+SPILL	QUICK_SORT	10097538000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5456757000
+SPILL	WRITE	1062547000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	10858974
+SPILL	COMPRESS_BYTE_COUNT	10859082
+SPILL	SORT_AND_SPILL	16285919000
+SPILL	QUICK_SORT	9881249000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	5363203000
+SPILL	WRITE	1019071000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	10610962
+SPILL	COMPRESS_BYTE_COUNT	10611070
+SPILL	SORT_AND_SPILL	15996922000
+SPILL	QUICK_SORT	10404292000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5552282000
+SPILL	WRITE	1123567000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	10348444
+SPILL	COMPRESS_BYTE_COUNT	10348552
+SPILL	SORT_AND_SPILL	19377031000
+SPILL	QUICK_SORT	10147776000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5685566000
+SPILL	WRITE	1084293000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11411635
+SPILL	COMPRESS_BYTE_COUNT	11411743
+SPILL	SORT_AND_SPILL	16771329000
+SPILL	QUICK_SORT	11091180000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5640685000
+SPILL	WRITE	1092528000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11274445
+SPILL	COMPRESS_BYTE_COUNT	11274553
+SPILL	SORT_AND_SPILL	17196914000
+SPILL	QUICK_SORT	10684894000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5897192000
+SPILL	WRITE	1124030000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11632956
+SPILL	COMPRESS_BYTE_COUNT	11633064
+SPILL	SORT_AND_SPILL	17422920000
+SPILL	QUICK_SORT	9940858000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	7441196000
+SPILL	WRITE	1669821000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11706670
+SPILL	COMPRESS_BYTE_COUNT	11706778
+SPILL	SORT_AND_SPILL	17323186000
+SPILL	QUICK_SORT	10031930000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5797924000
+SPILL	WRITE	1100620000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12115717
+SPILL	COMPRESS_BYTE_COUNT	12115825
+SPILL	SORT_AND_SPILL	17166893000
+SPILL	QUICK_SORT	10746614000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	6383699000
+SPILL	WRITE	1113943000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11395630
+SPILL	COMPRESS_BYTE_COUNT	11395738
+SPILL	SORT_AND_SPILL	16000106000
+SPILL	QUICK_SORT	10013136000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5861101000
+SPILL	WRITE	1060857000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11704651
+SPILL	COMPRESS_BYTE_COUNT	11704759
+SPILL	SORT_AND_SPILL	16996584000
+SPILL	QUICK_SORT	11152205000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5806747000
+SPILL	WRITE	1170303000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11880901
+SPILL	COMPRESS_BYTE_COUNT	11881009
+SPILL	SORT_AND_SPILL	17094456000
+SPILL	QUICK_SORT	9702519000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	5898777000
+SPILL	WRITE	1173843000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12042518
+SPILL	COMPRESS_BYTE_COUNT	12042626
+SPILL	SORT_AND_SPILL	17176538000
+SPILL	QUICK_SORT	9894677000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	7227413000
+SPILL	WRITE	1193040000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11926620
+SPILL	COMPRESS_BYTE_COUNT	11926728
+SPILL	SORT_AND_SPILL	17542242000
+SPILL	QUICK_SORT	10858658000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5811216000
+SPILL	WRITE	1119438000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11876749
+SPILL	COMPRESS_BYTE_COUNT	11876857
+SPILL	SORT_AND_SPILL	17046873000
+SPILL	QUICK_SORT	11410099000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5600545000
+SPILL	WRITE	1034402000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11501823
+SPILL	COMPRESS_BYTE_COUNT	11501931
+SPILL	SORT_AND_SPILL	16767925000
+SPILL	QUICK_SORT	10791827000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5682868000
+SPILL	WRITE	1120793000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11620072
+SPILL	COMPRESS_BYTE_COUNT	11620180
+SPILL	SORT_AND_SPILL	16614937000
+SPILL	QUICK_SORT	10845022000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	5733705000
+SPILL	WRITE	1072788000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11558659
+SPILL	COMPRESS_BYTE_COUNT	11558767
+SPILL	SORT_AND_SPILL	16729974000
+SPILL	QUICK_SORT	10583330000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5647020000
+SPILL	WRITE	1037440000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11496265
+SPILL	COMPRESS_BYTE_COUNT	11496373
+SPILL	SORT_AND_SPILL	16530303000
+SPILL	QUICK_SORT	10653100000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5840300000
+SPILL	WRITE	1127265000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11868901
+SPILL	COMPRESS_BYTE_COUNT	11869009
+SPILL	SORT_AND_SPILL	16213340000
+SPILL	QUICK_SORT	9765633000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5513195000
+SPILL	WRITE	1049235000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11155055
+SPILL	COMPRESS_BYTE_COUNT	11155163
+MAP	CLEANUP	119000
+MAP	CLEANUP_MEM	253190552
+MAP	TOTAL_RUN	489372095000
+MAP	READ	5427824000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	151986
+MAP	VALUE_BYTE_COUNT	32654473
+MAP	MAP	483804565000
+MAP	WRITE	450055054000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	31650471000
+MAP	SERIALIZE_OUTPUT	344363901000
+MAP	MAP_MEM	253190552
+SPILL	SORT_AND_SPILL	17072070000
+SPILL	QUICK_SORT	11197533000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5838092000
+SPILL	WRITE	1109018000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11829541
+SPILL	COMPRESS_BYTE_COUNT	11829649
+SPILL	SORT_AND_SPILL	2905346000
+SPILL	QUICK_SORT	1712654000
+SPILL	SORT_COUNT	150015
+SPILL	COMBINE	1098298000
+SPILL	WRITE	196382000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	2162478
+SPILL	COMPRESS_BYTE_COUNT	2162586
+MERGE	TOTAL_MERGE	78845123000
+MERGE	READ_WRITE	78116929000
+MERGE	READ_WRITE_COUNT	81
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	585700986000
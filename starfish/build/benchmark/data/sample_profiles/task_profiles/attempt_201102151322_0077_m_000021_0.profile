@@ -0,0 +1,227 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt/part-00124	0
+MAP	STARTUP_MEM	214801536
+MAP	SETUP	553000
+MAP	SETUP_MEM	214801536
+SPILL	SORT_AND_SPILL	20283836000
+SPILL	QUICK_SORT	13090945000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	7050542000
+SPILL	WRITE	1172466000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11298346
+SPILL	COMPRESS_BYTE_COUNT	11298454
+SPILL	SORT_AND_SPILL	17462212000
+SPILL	QUICK_SORT	11193872000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	6219679000
+SPILL	WRITE	982676000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	10884455
+SPILL	COMPRESS_BYTE_COUNT	10884563
+SPILL	SORT_AND_SPILL	20212328000
+SPILL	QUICK_SORT	11955412000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	6985851000
+SPILL	WRITE	1040665000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11554883
+SPILL	COMPRESS_BYTE_COUNT	11554991
+SPILL	SORT_AND_SPILL	18196281000
+SPILL	QUICK_SORT	12306731000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5844838000
+SPILL	WRITE	1046393000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11856513
+SPILL	COMPRESS_BYTE_COUNT	11856621
+SPILL	SORT_AND_SPILL	18674828000
+SPILL	QUICK_SORT	12864090000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	5658385000
+SPILL	WRITE	1038153000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11885269
+SPILL	COMPRESS_BYTE_COUNT	11885377
+SPILL	SORT_AND_SPILL	18410020000
+SPILL	QUICK_SORT	12609941000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5755967000
+SPILL	WRITE	1084243000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11764670
+SPILL	COMPRESS_BYTE_COUNT	11764778
+SPILL	SORT_AND_SPILL	21225536000
+SPILL	QUICK_SORT	13975472000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	6200103000
+SPILL	WRITE	1163557000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11378532
+SPILL	COMPRESS_BYTE_COUNT	11378640
+SPILL	SORT_AND_SPILL	19602986000
+SPILL	QUICK_SORT	13320064000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	6234240000
+SPILL	WRITE	1133080000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11705423
+SPILL	COMPRESS_BYTE_COUNT	11705531
+SPILL	SORT_AND_SPILL	19516952000
+SPILL	QUICK_SORT	12554455000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5709769000
+SPILL	WRITE	1038739000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11352386
+SPILL	COMPRESS_BYTE_COUNT	11352494
+SPILL	SORT_AND_SPILL	19267487000
+SPILL	QUICK_SORT	13548437000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	5675361000
+SPILL	WRITE	1050451000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11315938
+SPILL	COMPRESS_BYTE_COUNT	11316046
+SPILL	SORT_AND_SPILL	22416003000
+SPILL	QUICK_SORT	11189875000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	6423976000
+SPILL	WRITE	1235127000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12003499
+SPILL	COMPRESS_BYTE_COUNT	12003607
+SPILL	SORT_AND_SPILL	18000879000
+SPILL	QUICK_SORT	12020848000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5936926000
+SPILL	WRITE	1080098000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11897720
+SPILL	COMPRESS_BYTE_COUNT	11897828
+SPILL	SORT_AND_SPILL	17496129000
+SPILL	QUICK_SORT	10911612000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5752087000
+SPILL	WRITE	1186256000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11843559
+SPILL	COMPRESS_BYTE_COUNT	11843667
+SPILL	SORT_AND_SPILL	18232627000
+SPILL	QUICK_SORT	12401134000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5787090000
+SPILL	WRITE	1094803000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11842949
+SPILL	COMPRESS_BYTE_COUNT	11843057
+SPILL	SORT_AND_SPILL	19243579000
+SPILL	QUICK_SORT	12618386000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	5753522000
+SPILL	WRITE	1064934000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11919498
+SPILL	COMPRESS_BYTE_COUNT	11919606
+SPILL	SORT_AND_SPILL	16497414000
+SPILL	QUICK_SORT	10958748000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5495684000
+SPILL	WRITE	1011857000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11180260
+SPILL	COMPRESS_BYTE_COUNT	11180368
+SPILL	SORT_AND_SPILL	18056642000
+SPILL	QUICK_SORT	11569159000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5629433000
+SPILL	WRITE	1004207000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11345860
+SPILL	COMPRESS_BYTE_COUNT	11345968
+SPILL	SORT_AND_SPILL	16960790000
+SPILL	QUICK_SORT	11322863000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5564370000
+SPILL	WRITE	1025096000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11125983
+SPILL	COMPRESS_BYTE_COUNT	11126091
+SPILL	SORT_AND_SPILL	18020613000
+SPILL	QUICK_SORT	11172303000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5557357000
+SPILL	WRITE	1048490000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11512116
+SPILL	COMPRESS_BYTE_COUNT	11512224
+SPILL	SORT_AND_SPILL	20912218000
+SPILL	QUICK_SORT	14970096000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	5896366000
+SPILL	WRITE	1115158000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11678057
+SPILL	COMPRESS_BYTE_COUNT	11678165
+SPILL	SORT_AND_SPILL	17215519000
+SPILL	QUICK_SORT	11382041000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5724504000
+SPILL	WRITE	1080705000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11791325
+SPILL	COMPRESS_BYTE_COUNT	11791433
+SPILL	SORT_AND_SPILL	16822530000
+SPILL	QUICK_SORT	11295580000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5483609000
+SPILL	WRITE	1033225000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11248705
+SPILL	COMPRESS_BYTE_COUNT	11248813
+SPILL	SORT_AND_SPILL	19427791000
+SPILL	QUICK_SORT	11777235000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5822826000
+SPILL	WRITE	1078038000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11687900
+SPILL	COMPRESS_BYTE_COUNT	11688008
+MAP	CLEANUP	106000
+MAP	CLEANUP_MEM	279686176
+MAP	TOTAL_RUN	530457798000
+MAP	READ	7090300000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	121563
+MAP	VALUE_BYTE_COUNT	32356249
+MAP	MAP	523282247000
+MAP	WRITE	488210018000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	21608468000
+MAP	SERIALIZE_OUTPUT	380388082000
+MAP	MAP_MEM	279686176
+SPILL	SORT_AND_SPILL	18040660000
+SPILL	QUICK_SORT	11300297000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	6693608000
+SPILL	WRITE	1245123000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11531870
+SPILL	COMPRESS_BYTE_COUNT	11531978
+SPILL	SORT_AND_SPILL	1431531000
+SPILL	QUICK_SORT	613169000
+SPILL	SORT_COUNT	69199
+SPILL	COMBINE	752952000
+SPILL	WRITE	100396000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	1121971
+SPILL	COMPRESS_BYTE_COUNT	1122079
+MERGE	TOTAL_MERGE	86800933000
+MERGE	READ_WRITE	85129598000
+MERGE	READ_WRITE_COUNT	81
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	637197891000
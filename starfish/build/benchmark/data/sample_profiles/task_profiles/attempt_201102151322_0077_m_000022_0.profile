@@ -0,0 +1,227 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt/part-00123	0
+MAP	STARTUP_MEM	214811920
+MAP	SETUP	550000
+MAP	SETUP_MEM	214811920
+SPILL	SORT_AND_SPILL	21317534000
+SPILL	QUICK_SORT	14383960000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	6251753000
+SPILL	WRITE	1139077000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11943726
+SPILL	COMPRESS_BYTE_COUNT	11943834
+SPILL	SORT_AND_SPILL	18959550000
+SPILL	QUICK_SORT	12847098000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	6067325000
+SPILL	WRITE	1152441000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11832133
+SPILL	COMPRESS_BYTE_COUNT	11832241
+SPILL	SORT_AND_SPILL	17837645000
+SPILL	QUICK_SORT	11232177000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	6186384000
+SPILL	WRITE	1088532000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11964860
+SPILL	COMPRESS_BYTE_COUNT	11964968
+SPILL	SORT_AND_SPILL	19032727000
+SPILL	QUICK_SORT	13020393000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5967428000
+SPILL	WRITE	1096374000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11839126
+SPILL	COMPRESS_BYTE_COUNT	11839234
+SPILL	SORT_AND_SPILL	18291814000
+SPILL	QUICK_SORT	12415574000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	5572335000
+SPILL	WRITE	1054654000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11597182
+SPILL	COMPRESS_BYTE_COUNT	11597290
+SPILL	SORT_AND_SPILL	18280761000
+SPILL	QUICK_SORT	12331383000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5905347000
+SPILL	WRITE	1035192000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11996500
+SPILL	COMPRESS_BYTE_COUNT	11996608
+SPILL	SORT_AND_SPILL	17410173000
+SPILL	QUICK_SORT	11436796000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5850322000
+SPILL	WRITE	1051922000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12051222
+SPILL	COMPRESS_BYTE_COUNT	12051330
+SPILL	SORT_AND_SPILL	17929497000
+SPILL	QUICK_SORT	12113640000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5741835000
+SPILL	WRITE	1006841000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11610038
+SPILL	COMPRESS_BYTE_COUNT	11610146
+SPILL	SORT_AND_SPILL	17763847000
+SPILL	QUICK_SORT	11900009000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5494203000
+SPILL	WRITE	1006313000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11435786
+SPILL	COMPRESS_BYTE_COUNT	11435894
+SPILL	SORT_AND_SPILL	17794052000
+SPILL	QUICK_SORT	12134721000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	5614149000
+SPILL	WRITE	1021759000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11694726
+SPILL	COMPRESS_BYTE_COUNT	11694834
+SPILL	SORT_AND_SPILL	17808580000
+SPILL	QUICK_SORT	11248129000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	6457060000
+SPILL	WRITE	1191588000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11412062
+SPILL	COMPRESS_BYTE_COUNT	11412170
+SPILL	SORT_AND_SPILL	17406572000
+SPILL	QUICK_SORT	11657744000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5701244000
+SPILL	WRITE	1046491000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11879613
+SPILL	COMPRESS_BYTE_COUNT	11879721
+SPILL	SORT_AND_SPILL	19315216000
+SPILL	QUICK_SORT	11732517000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	7325796000
+SPILL	WRITE	1217581000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11495247
+SPILL	COMPRESS_BYTE_COUNT	11495355
+SPILL	SORT_AND_SPILL	19753212000
+SPILL	QUICK_SORT	13842849000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5861667000
+SPILL	WRITE	1023093000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11846799
+SPILL	COMPRESS_BYTE_COUNT	11846907
+SPILL	SORT_AND_SPILL	18877428000
+SPILL	QUICK_SORT	12044718000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	5784652000
+SPILL	WRITE	1094429000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11884560
+SPILL	COMPRESS_BYTE_COUNT	11884668
+SPILL	SORT_AND_SPILL	17216089000
+SPILL	QUICK_SORT	11617736000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5552223000
+SPILL	WRITE	961750000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11362916
+SPILL	COMPRESS_BYTE_COUNT	11363024
+SPILL	SORT_AND_SPILL	16933041000
+SPILL	QUICK_SORT	11245428000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5581691000
+SPILL	WRITE	992485000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11533508
+SPILL	COMPRESS_BYTE_COUNT	11533616
+SPILL	SORT_AND_SPILL	17618149000
+SPILL	QUICK_SORT	11770020000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5800258000
+SPILL	WRITE	1082478000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11971479
+SPILL	COMPRESS_BYTE_COUNT	11971587
+SPILL	SORT_AND_SPILL	17852511000
+SPILL	QUICK_SORT	11384613000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	6082157000
+SPILL	WRITE	1089750000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11402479
+SPILL	COMPRESS_BYTE_COUNT	11402587
+SPILL	SORT_AND_SPILL	17058678000
+SPILL	QUICK_SORT	10813345000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	6188586000
+SPILL	WRITE	1163108000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11826210
+SPILL	COMPRESS_BYTE_COUNT	11826318
+SPILL	SORT_AND_SPILL	20033539000
+SPILL	QUICK_SORT	13312495000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	6144974000
+SPILL	WRITE	1059757000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11883066
+SPILL	COMPRESS_BYTE_COUNT	11883174
+SPILL	SORT_AND_SPILL	18326462000
+SPILL	QUICK_SORT	10967631000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	7302904000
+SPILL	WRITE	1522405000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12011447
+SPILL	COMPRESS_BYTE_COUNT	12011555
+SPILL	SORT_AND_SPILL	18124132000
+SPILL	QUICK_SORT	11738885000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5930010000
+SPILL	WRITE	1068283000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11938883
+SPILL	COMPRESS_BYTE_COUNT	11938991
+MAP	CLEANUP	118000
+MAP	CLEANUP_MEM	241688888
+MAP	TOTAL_RUN	532206961000
+MAP	READ	7253652000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	113872
+MAP	VALUE_BYTE_COUNT	32308554
+MAP	MAP	524874407000
+MAP	WRITE	486465474000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	26938133000
+MAP	SERIALIZE_OUTPUT	375156923000
+MAP	MAP_MEM	241688888
+SPILL	SORT_AND_SPILL	17053906000
+SPILL	QUICK_SORT	11276946000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5725363000
+SPILL	WRITE	1016176000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11749926
+SPILL	COMPRESS_BYTE_COUNT	11750034
+SPILL	SORT_AND_SPILL	2409171000
+SPILL	QUICK_SORT	1331138000
+SPILL	SORT_COUNT	145065
+SPILL	COMBINE	1001799000
+SPILL	WRITE	187658000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	2194154
+SPILL	COMPRESS_BYTE_COUNT	2194262
+MERGE	TOTAL_MERGE	95510085000
+MERGE	READ_WRITE	93839334000
+MERGE	READ_WRITE_COUNT	81
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	640334632000
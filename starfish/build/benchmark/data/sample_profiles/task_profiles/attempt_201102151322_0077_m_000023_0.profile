@@ -0,0 +1,227 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt/part-00127	0
+MAP	STARTUP_MEM	214816544
+MAP	SETUP	530000
+MAP	SETUP_MEM	214816544
+SPILL	SORT_AND_SPILL	18188828000
+SPILL	QUICK_SORT	12241453000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	5789192000
+SPILL	WRITE	1057446000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11328198
+SPILL	COMPRESS_BYTE_COUNT	11328306
+SPILL	SORT_AND_SPILL	16972586000
+SPILL	QUICK_SORT	11197632000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5707154000
+SPILL	WRITE	1101165000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11794954
+SPILL	COMPRESS_BYTE_COUNT	11795062
+SPILL	SORT_AND_SPILL	19070083000
+SPILL	QUICK_SORT	12273684000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5608629000
+SPILL	WRITE	1093674000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11610042
+SPILL	COMPRESS_BYTE_COUNT	11610150
+SPILL	SORT_AND_SPILL	15164872000
+SPILL	QUICK_SORT	9995437000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5128903000
+SPILL	WRITE	909324000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	9634280
+SPILL	COMPRESS_BYTE_COUNT	9634388
+SPILL	SORT_AND_SPILL	18222852000
+SPILL	QUICK_SORT	12080678000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	5700047000
+SPILL	WRITE	1056592000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11720324
+SPILL	COMPRESS_BYTE_COUNT	11720432
+SPILL	SORT_AND_SPILL	17940952000
+SPILL	QUICK_SORT	12164540000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5738161000
+SPILL	WRITE	1098637000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11663073
+SPILL	COMPRESS_BYTE_COUNT	11663181
+SPILL	SORT_AND_SPILL	17628146000
+SPILL	QUICK_SORT	10544816000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	6976255000
+SPILL	WRITE	2323143000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11790786
+SPILL	COMPRESS_BYTE_COUNT	11790894
+SPILL	SORT_AND_SPILL	16597671000
+SPILL	QUICK_SORT	10872448000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5685657000
+SPILL	WRITE	1068539000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11779170
+SPILL	COMPRESS_BYTE_COUNT	11779278
+SPILL	SORT_AND_SPILL	17706393000
+SPILL	QUICK_SORT	11756106000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5662936000
+SPILL	WRITE	1016134000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11685789
+SPILL	COMPRESS_BYTE_COUNT	11685897
+SPILL	SORT_AND_SPILL	16711537000
+SPILL	QUICK_SORT	11076296000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	5595090000
+SPILL	WRITE	1003543000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11284503
+SPILL	COMPRESS_BYTE_COUNT	11284611
+SPILL	SORT_AND_SPILL	17508890000
+SPILL	QUICK_SORT	11235110000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	6176053000
+SPILL	WRITE	1321234000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11816053
+SPILL	COMPRESS_BYTE_COUNT	11816161
+SPILL	SORT_AND_SPILL	17137682000
+SPILL	QUICK_SORT	10455805000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	6639915000
+SPILL	WRITE	1148775000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11090807
+SPILL	COMPRESS_BYTE_COUNT	11090915
+SPILL	SORT_AND_SPILL	18009921000
+SPILL	QUICK_SORT	11363948000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	6416536000
+SPILL	WRITE	1080050000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11519378
+SPILL	COMPRESS_BYTE_COUNT	11519486
+SPILL	SORT_AND_SPILL	16478583000
+SPILL	QUICK_SORT	10629865000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5804791000
+SPILL	WRITE	1033855000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11710457
+SPILL	COMPRESS_BYTE_COUNT	11710565
+SPILL	SORT_AND_SPILL	17520844000
+SPILL	QUICK_SORT	11452385000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	5850949000
+SPILL	WRITE	1101939000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12070608
+SPILL	COMPRESS_BYTE_COUNT	12070716
+SPILL	SORT_AND_SPILL	17642669000
+SPILL	QUICK_SORT	11796733000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5805775000
+SPILL	WRITE	1084741000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11868923
+SPILL	COMPRESS_BYTE_COUNT	11869031
+SPILL	SORT_AND_SPILL	17951403000
+SPILL	QUICK_SORT	10666053000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	7181598000
+SPILL	WRITE	1053383000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11482749
+SPILL	COMPRESS_BYTE_COUNT	11482857
+SPILL	SORT_AND_SPILL	17238090000
+SPILL	QUICK_SORT	11605818000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5594691000
+SPILL	WRITE	1045001000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11505252
+SPILL	COMPRESS_BYTE_COUNT	11505360
+SPILL	SORT_AND_SPILL	17575375000
+SPILL	QUICK_SORT	11041200000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5803448000
+SPILL	WRITE	1057065000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11845843
+SPILL	COMPRESS_BYTE_COUNT	11845951
+SPILL	SORT_AND_SPILL	17592033000
+SPILL	QUICK_SORT	12026400000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	5515256000
+SPILL	WRITE	978107000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11014127
+SPILL	COMPRESS_BYTE_COUNT	11014235
+SPILL	SORT_AND_SPILL	17058486000
+SPILL	QUICK_SORT	10334042000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5663438000
+SPILL	WRITE	1033850000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11676376
+SPILL	COMPRESS_BYTE_COUNT	11676484
+SPILL	SORT_AND_SPILL	17066820000
+SPILL	QUICK_SORT	10914365000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	6111554000
+SPILL	WRITE	1113296000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11839472
+SPILL	COMPRESS_BYTE_COUNT	11839580
+SPILL	SORT_AND_SPILL	17906788000
+SPILL	QUICK_SORT	11872130000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5928651000
+SPILL	WRITE	1099842000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12268903
+SPILL	COMPRESS_BYTE_COUNT	12269011
+MAP	CLEANUP	164000
+MAP	CLEANUP_MEM	211666000
+MAP	TOTAL_RUN	503482286176
+MAP	READ	687324000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	107437
+MAP	VALUE_BYTE_COUNT	32290187
+MAP	MAP	502720245176
+MAP	WRITE	465794974176
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	24753139000
+MAP	SERIALIZE_OUTPUT	345047987176
+MAP	MAP_MEM	211666000
+SPILL	SORT_AND_SPILL	18033566000
+SPILL	QUICK_SORT	11526519000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	6466377000
+SPILL	WRITE	1350804000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11807896
+SPILL	COMPRESS_BYTE_COUNT	11808004
+SPILL	SORT_AND_SPILL	889640000
+SPILL	QUICK_SORT	356337000
+SPILL	SORT_COUNT	53757
+SPILL	COMBINE	463474000
+SPILL	WRITE	73701000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	837797
+SPILL	COMPRESS_BYTE_COUNT	837905
+MERGE	TOTAL_MERGE	94510257000
+MERGE	READ_WRITE	93406724000
+MERGE	READ_WRITE_COUNT	81
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	613889191176
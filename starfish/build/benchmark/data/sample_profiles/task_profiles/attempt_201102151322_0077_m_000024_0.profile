@@ -0,0 +1,219 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt/part-00121	0
+MAP	STARTUP_MEM	214769408
+MAP	SETUP	522000
+MAP	SETUP_MEM	214769408
+SPILL	SORT_AND_SPILL	20858299000
+SPILL	QUICK_SORT	14163193000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	6525222000
+SPILL	WRITE	1433470000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11742720
+SPILL	COMPRESS_BYTE_COUNT	11742828
+SPILL	SORT_AND_SPILL	18724237000
+SPILL	QUICK_SORT	12544953000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	6023967000
+SPILL	WRITE	1120271000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11938922
+SPILL	COMPRESS_BYTE_COUNT	11939030
+SPILL	SORT_AND_SPILL	18315206000
+SPILL	QUICK_SORT	12411838000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5617257000
+SPILL	WRITE	1067580000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11144641
+SPILL	COMPRESS_BYTE_COUNT	11144749
+SPILL	SORT_AND_SPILL	19055549000
+SPILL	QUICK_SORT	11397102000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	6045386000
+SPILL	WRITE	1039987000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11917875
+SPILL	COMPRESS_BYTE_COUNT	11917983
+SPILL	SORT_AND_SPILL	18456751000
+SPILL	QUICK_SORT	12634476000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	5690497000
+SPILL	WRITE	1055391000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11594143
+SPILL	COMPRESS_BYTE_COUNT	11594251
+SPILL	SORT_AND_SPILL	20287465000
+SPILL	QUICK_SORT	13428378000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	6812873000
+SPILL	WRITE	1267439000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11973573
+SPILL	COMPRESS_BYTE_COUNT	11973681
+SPILL	SORT_AND_SPILL	18645775000
+SPILL	QUICK_SORT	12476057000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5848105000
+SPILL	WRITE	1114475000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11791743
+SPILL	COMPRESS_BYTE_COUNT	11791851
+SPILL	SORT_AND_SPILL	18978957000
+SPILL	QUICK_SORT	12995967000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5933541000
+SPILL	WRITE	1062846000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11883925
+SPILL	COMPRESS_BYTE_COUNT	11884033
+SPILL	SORT_AND_SPILL	18413335000
+SPILL	QUICK_SORT	12057266000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5899831000
+SPILL	WRITE	1121353000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11881885
+SPILL	COMPRESS_BYTE_COUNT	11881993
+SPILL	SORT_AND_SPILL	17145678000
+SPILL	QUICK_SORT	11226195000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	5870278000
+SPILL	WRITE	1014702000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11674997
+SPILL	COMPRESS_BYTE_COUNT	11675105
+SPILL	SORT_AND_SPILL	18638646000
+SPILL	QUICK_SORT	12582301000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5733454000
+SPILL	WRITE	1040930000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11429609
+SPILL	COMPRESS_BYTE_COUNT	11429717
+SPILL	SORT_AND_SPILL	18785655000
+SPILL	QUICK_SORT	12773873000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5943468000
+SPILL	WRITE	1014936000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11705683
+SPILL	COMPRESS_BYTE_COUNT	11705791
+SPILL	SORT_AND_SPILL	19081200000
+SPILL	QUICK_SORT	12159681000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	6288093000
+SPILL	WRITE	1083540000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11970623
+SPILL	COMPRESS_BYTE_COUNT	11970731
+SPILL	SORT_AND_SPILL	16461922000
+SPILL	QUICK_SORT	10375854000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	6037185000
+SPILL	WRITE	1059257000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11433436
+SPILL	COMPRESS_BYTE_COUNT	11433544
+SPILL	SORT_AND_SPILL	18169016000
+SPILL	QUICK_SORT	11431495000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	5837492000
+SPILL	WRITE	1036070000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11810670
+SPILL	COMPRESS_BYTE_COUNT	11810778
+SPILL	SORT_AND_SPILL	16817533000
+SPILL	QUICK_SORT	10964998000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5801013000
+SPILL	WRITE	1036226000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11715578
+SPILL	COMPRESS_BYTE_COUNT	11715686
+SPILL	SORT_AND_SPILL	18121227000
+SPILL	QUICK_SORT	11876006000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5896866000
+SPILL	WRITE	1027594000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12008843
+SPILL	COMPRESS_BYTE_COUNT	12008951
+SPILL	SORT_AND_SPILL	17366725000
+SPILL	QUICK_SORT	11516136000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5800626000
+SPILL	WRITE	1033155000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11809840
+SPILL	COMPRESS_BYTE_COUNT	11809948
+SPILL	SORT_AND_SPILL	17194689000
+SPILL	QUICK_SORT	11198073000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5884395000
+SPILL	WRITE	1043653000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11888144
+SPILL	COMPRESS_BYTE_COUNT	11888252
+SPILL	SORT_AND_SPILL	19958733000
+SPILL	QUICK_SORT	12037012000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	7856813000
+SPILL	WRITE	1278469000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11810225
+SPILL	COMPRESS_BYTE_COUNT	11810333
+SPILL	SORT_AND_SPILL	17316437000
+SPILL	QUICK_SORT	11157163000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	6035865000
+SPILL	WRITE	1241448000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11822243
+SPILL	COMPRESS_BYTE_COUNT	11822351
+SPILL	SORT_AND_SPILL	16412323000
+SPILL	QUICK_SORT	10623817000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5740987000
+SPILL	WRITE	1038913000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11334357
+SPILL	COMPRESS_BYTE_COUNT	11334465
+SPILL	SORT_AND_SPILL	16668438000
+SPILL	QUICK_SORT	10646452000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5902739000
+SPILL	WRITE	1076677000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11748541
+SPILL	COMPRESS_BYTE_COUNT	11748649
+MAP	CLEANUP	104000
+MAP	CLEANUP_MEM	211913600
+MAP	TOTAL_RUN	514342795799
+MAP	READ	689189000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	124288
+MAP	VALUE_BYTE_COUNT	31561437
+MAP	MAP	513576545799
+MAP	WRITE	478829985799
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	29868866000
+MAP	SERIALIZE_OUTPUT	391819399799
+MAP	MAP_MEM	211915648
+SPILL	SORT_AND_SPILL	9120527000
+SPILL	QUICK_SORT	5582844000
+SPILL	SORT_COUNT	477188
+SPILL	COMBINE	3497181000
+SPILL	WRITE	777273000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	6915220
+SPILL	COMPRESS_BYTE_COUNT	6915328
+MERGE	TOTAL_MERGE	76149609000
+MERGE	READ_WRITE	75298050000
+MERGE	READ_WRITE_COUNT	81
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	600110171799
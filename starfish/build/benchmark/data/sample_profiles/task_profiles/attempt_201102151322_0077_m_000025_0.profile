@@ -0,0 +1,211 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt/part-00129	0
+MAP	STARTUP_MEM	214806856
+MAP	SETUP	525000
+MAP	SETUP_MEM	214806856
+SPILL	SORT_AND_SPILL	18452306000
+SPILL	QUICK_SORT	12451841000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	5879405000
+SPILL	WRITE	1151506000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11647718
+SPILL	COMPRESS_BYTE_COUNT	11647826
+SPILL	SORT_AND_SPILL	16349783000
+SPILL	QUICK_SORT	10551493000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5759311000
+SPILL	WRITE	1077713000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11487884
+SPILL	COMPRESS_BYTE_COUNT	11487992
+SPILL	SORT_AND_SPILL	17166184000
+SPILL	QUICK_SORT	10366792000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5681077000
+SPILL	WRITE	1016316000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11599358
+SPILL	COMPRESS_BYTE_COUNT	11599466
+SPILL	SORT_AND_SPILL	16511721000
+SPILL	QUICK_SORT	11058054000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5416477000
+SPILL	WRITE	956020000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11255614
+SPILL	COMPRESS_BYTE_COUNT	11255722
+SPILL	SORT_AND_SPILL	17349808389
+SPILL	QUICK_SORT	11643493000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	5613956389
+SPILL	WRITE	1009570000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11637222
+SPILL	COMPRESS_BYTE_COUNT	11637330
+SPILL	SORT_AND_SPILL	16925574000
+SPILL	QUICK_SORT	11132742000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5755465000
+SPILL	WRITE	1103595000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11877472
+SPILL	COMPRESS_BYTE_COUNT	11877580
+SPILL	SORT_AND_SPILL	17258698000
+SPILL	QUICK_SORT	11211223000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5680733000
+SPILL	WRITE	1054186000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11736980
+SPILL	COMPRESS_BYTE_COUNT	11737088
+SPILL	SORT_AND_SPILL	17185867000
+SPILL	QUICK_SORT	11356978000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5791359000
+SPILL	WRITE	1086256000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11743179
+SPILL	COMPRESS_BYTE_COUNT	11743287
+SPILL	SORT_AND_SPILL	17394061000
+SPILL	QUICK_SORT	11314120000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5949012000
+SPILL	WRITE	1210959000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12031970
+SPILL	COMPRESS_BYTE_COUNT	12032078
+SPILL	SORT_AND_SPILL	16978995000
+SPILL	QUICK_SORT	11254426000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	5686498000
+SPILL	WRITE	1031686000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11716482
+SPILL	COMPRESS_BYTE_COUNT	11716590
+SPILL	SORT_AND_SPILL	18243933000
+SPILL	QUICK_SORT	10599536000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	6807363000
+SPILL	WRITE	1130017000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11904937
+SPILL	COMPRESS_BYTE_COUNT	11905045
+SPILL	SORT_AND_SPILL	19185984000
+SPILL	QUICK_SORT	12562323000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	6385704000
+SPILL	WRITE	1100115000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11655843
+SPILL	COMPRESS_BYTE_COUNT	11655951
+SPILL	SORT_AND_SPILL	17879796000
+SPILL	QUICK_SORT	9797942000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	6593724000
+SPILL	WRITE	1339208000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11871421
+SPILL	COMPRESS_BYTE_COUNT	11871529
+SPILL	SORT_AND_SPILL	17123353000
+SPILL	QUICK_SORT	10671339000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	6412344000
+SPILL	WRITE	1110360000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11815431
+SPILL	COMPRESS_BYTE_COUNT	11815539
+SPILL	SORT_AND_SPILL	17736412000
+SPILL	QUICK_SORT	10612614000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	7026285000
+SPILL	WRITE	1403349000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12049374
+SPILL	COMPRESS_BYTE_COUNT	12049482
+SPILL	SORT_AND_SPILL	17694823000
+SPILL	QUICK_SORT	10505131000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	7150723000
+SPILL	WRITE	1219641000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11779120
+SPILL	COMPRESS_BYTE_COUNT	11779228
+SPILL	SORT_AND_SPILL	17784688000
+SPILL	QUICK_SORT	10791454000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5760440000
+SPILL	WRITE	1043740000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11982332
+SPILL	COMPRESS_BYTE_COUNT	11982440
+SPILL	SORT_AND_SPILL	16784703000
+SPILL	QUICK_SORT	10970025000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5773362000
+SPILL	WRITE	1078040000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11923607
+SPILL	COMPRESS_BYTE_COUNT	11923715
+SPILL	SORT_AND_SPILL	16332232000
+SPILL	QUICK_SORT	9949475000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5831363000
+SPILL	WRITE	1056230000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12018155
+SPILL	COMPRESS_BYTE_COUNT	12018263
+SPILL	SORT_AND_SPILL	17994698000
+SPILL	QUICK_SORT	10747508000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	7059094000
+SPILL	WRITE	1378336000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11790872
+SPILL	COMPRESS_BYTE_COUNT	11790980
+SPILL	SORT_AND_SPILL	17222069000
+SPILL	QUICK_SORT	11188955000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5939039000
+SPILL	WRITE	1204068000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11758409
+SPILL	COMPRESS_BYTE_COUNT	11758517
+SPILL	SORT_AND_SPILL	17282464000
+SPILL	QUICK_SORT	11169729000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	6068051000
+SPILL	WRITE	1102462000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11817158
+SPILL	COMPRESS_BYTE_COUNT	11817266
+MAP	CLEANUP	62000
+MAP	CLEANUP_MEM	217645608
+MAP	TOTAL_RUN	476724998389
+MAP	READ	632510000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	116108
+MAP	VALUE_BYTE_COUNT	30436281
+MAP	MAP	476009039389
+MAP	WRITE	437789797389
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	19344465000
+MAP	SERIALIZE_OUTPUT	339311861389
+MAP	MAP_MEM	217647656
+SPILL	SORT_AND_SPILL	7103050000
+SPILL	QUICK_SORT	4239780000
+SPILL	SORT_COUNT	398557
+SPILL	COMBINE	2789186000
+SPILL	WRITE	473014000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	5664932
+SPILL	COMPRESS_BYTE_COUNT	5665040
+MERGE	TOTAL_MERGE	97638127000
+MERGE	READ_WRITE	96847123000
+MERGE	READ_WRITE_COUNT	81
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	581988453389
@@ -0,0 +1,211 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt/part-00125	0
+MAP	STARTUP_MEM	214806592
+MAP	SETUP	509000
+MAP	SETUP_MEM	214806592
+SPILL	SORT_AND_SPILL	21194760000
+SPILL	QUICK_SORT	13867512000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	7042809000
+SPILL	WRITE	1271144000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11797870
+SPILL	COMPRESS_BYTE_COUNT	11797978
+SPILL	SORT_AND_SPILL	20989561486
+SPILL	QUICK_SORT	14072441000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	6872968486
+SPILL	WRITE	1255391486
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11654874
+SPILL	COMPRESS_BYTE_COUNT	11654982
+SPILL	SORT_AND_SPILL	19842829000
+SPILL	QUICK_SORT	12377656000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	6940462000
+SPILL	WRITE	1225462000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12063562
+SPILL	COMPRESS_BYTE_COUNT	12063670
+SPILL	SORT_AND_SPILL	19134021000
+SPILL	QUICK_SORT	12198840000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	6889962000
+SPILL	WRITE	1166502000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11132795
+SPILL	COMPRESS_BYTE_COUNT	11132903
+SPILL	SORT_AND_SPILL	19004360143
+SPILL	QUICK_SORT	12493429143
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	6034424000
+SPILL	WRITE	1141502000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	9824856
+SPILL	COMPRESS_BYTE_COUNT	9824964
+SPILL	SORT_AND_SPILL	19452119000
+SPILL	QUICK_SORT	12669595000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	6739658000
+SPILL	WRITE	1155745000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11334881
+SPILL	COMPRESS_BYTE_COUNT	11334989
+SPILL	SORT_AND_SPILL	18585269143
+SPILL	QUICK_SORT	11298294143
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	6946669000
+SPILL	WRITE	1206285000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11890961
+SPILL	COMPRESS_BYTE_COUNT	11891069
+SPILL	SORT_AND_SPILL	18911214000
+SPILL	QUICK_SORT	11566518000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	7301433000
+SPILL	WRITE	1280900000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11711705
+SPILL	COMPRESS_BYTE_COUNT	11711813
+SPILL	SORT_AND_SPILL	18960682000
+SPILL	QUICK_SORT	11743364000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	6738838000
+SPILL	WRITE	1135983000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11561533
+SPILL	COMPRESS_BYTE_COUNT	11561641
+SPILL	SORT_AND_SPILL	20455154000
+SPILL	QUICK_SORT	12043126000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	8366497000
+SPILL	WRITE	2013053000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12032850
+SPILL	COMPRESS_BYTE_COUNT	12032958
+SPILL	SORT_AND_SPILL	20859561000
+SPILL	QUICK_SORT	10491208000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	8941368000
+SPILL	WRITE	1294025000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11704759
+SPILL	COMPRESS_BYTE_COUNT	11704867
+SPILL	SORT_AND_SPILL	17649098143
+SPILL	QUICK_SORT	10582786143
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	7017497000
+SPILL	WRITE	1445913000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11342858
+SPILL	COMPRESS_BYTE_COUNT	11342966
+SPILL	SORT_AND_SPILL	23266423000
+SPILL	QUICK_SORT	12535998000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	9618989000
+SPILL	WRITE	1704650000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11623940
+SPILL	COMPRESS_BYTE_COUNT	11624048
+SPILL	SORT_AND_SPILL	18012516142
+SPILL	QUICK_SORT	11005139000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	6957665142
+SPILL	WRITE	1162647000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11743720
+SPILL	COMPRESS_BYTE_COUNT	11743828
+SPILL	SORT_AND_SPILL	19612422000
+SPILL	QUICK_SORT	10556414000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	8747302000
+SPILL	WRITE	1479709000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12303389
+SPILL	COMPRESS_BYTE_COUNT	12303497
+SPILL	SORT_AND_SPILL	18613640000
+SPILL	QUICK_SORT	9815393000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	8731881000
+SPILL	WRITE	1836029000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11383703
+SPILL	COMPRESS_BYTE_COUNT	11383811
+SPILL	SORT_AND_SPILL	19828217991
+SPILL	QUICK_SORT	11159009991
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	8426974000
+SPILL	WRITE	1383596000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11650426
+SPILL	COMPRESS_BYTE_COUNT	11650534
+SPILL	SORT_AND_SPILL	18158897000
+SPILL	QUICK_SORT	10359374000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	7754121000
+SPILL	WRITE	1398324000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11587706
+SPILL	COMPRESS_BYTE_COUNT	11587814
+SPILL	SORT_AND_SPILL	20635067295
+SPILL	QUICK_SORT	11322211000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	9144024295
+SPILL	WRITE	1148931295
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11746134
+SPILL	COMPRESS_BYTE_COUNT	11746242
+SPILL	SORT_AND_SPILL	17692753000
+SPILL	QUICK_SORT	10042160000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	7606911000
+SPILL	WRITE	1445950000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11848819
+SPILL	COMPRESS_BYTE_COUNT	11848927
+SPILL	SORT_AND_SPILL	18172527000
+SPILL	QUICK_SORT	10507596000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	7381333000
+SPILL	WRITE	1198604000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11485115
+SPILL	COMPRESS_BYTE_COUNT	11485223
+SPILL	SORT_AND_SPILL	17778762990
+SPILL	QUICK_SORT	10214954990
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	7519913000
+SPILL	WRITE	1496212000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11206047
+SPILL	COMPRESS_BYTE_COUNT	11206155
+MAP	CLEANUP	44000
+MAP	CLEANUP_MEM	275420864
+MAP	TOTAL_RUN	546381279475
+MAP	READ	4388001143
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	99875
+MAP	VALUE_BYTE_COUNT	29960212
+MAP	MAP	541914491332
+MAP	WRITE	504848132332
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	30469574000
+MAP	SERIALIZE_OUTPUT	378900582199
+MAP	MAP_MEM	275468472
+SPILL	SORT_AND_SPILL	7848648000
+SPILL	QUICK_SORT	4064496000
+SPILL	SORT_COUNT	343569
+SPILL	COMBINE	3695331000
+SPILL	WRITE	568571000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	4994343
+SPILL	COMPRESS_BYTE_COUNT	4994451
+MERGE	TOTAL_MERGE	73537568143
+MERGE	READ_WRITE	72791619143
+MERGE	READ_WRITE_COUNT	81
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	628296054618
@@ -0,0 +1,203 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt/part-00128	0
+MAP	STARTUP_MEM	214825760
+MAP	SETUP	554000
+MAP	SETUP_MEM	214825760
+SPILL	SORT_AND_SPILL	20025894000
+SPILL	QUICK_SORT	12619223000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	7196638000
+SPILL	WRITE	1220862000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11442112
+SPILL	COMPRESS_BYTE_COUNT	11442220
+SPILL	SORT_AND_SPILL	19414307486
+SPILL	QUICK_SORT	12266739000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	7098324486
+SPILL	WRITE	1245212000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11474744
+SPILL	COMPRESS_BYTE_COUNT	11474852
+SPILL	SORT_AND_SPILL	20723304000
+SPILL	QUICK_SORT	11476136000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	7722375000
+SPILL	WRITE	1571748000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11653622
+SPILL	COMPRESS_BYTE_COUNT	11653730
+SPILL	SORT_AND_SPILL	21219527000
+SPILL	QUICK_SORT	13774322000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	7397545000
+SPILL	WRITE	1405220000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11886484
+SPILL	COMPRESS_BYTE_COUNT	11886592
+SPILL	SORT_AND_SPILL	18961655143
+SPILL	QUICK_SORT	11785155143
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	6994410000
+SPILL	WRITE	1187464000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11846679
+SPILL	COMPRESS_BYTE_COUNT	11846787
+SPILL	SORT_AND_SPILL	17609257000
+SPILL	QUICK_SORT	10656377000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	6840118000
+SPILL	WRITE	1266157000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11608940
+SPILL	COMPRESS_BYTE_COUNT	11609048
+SPILL	SORT_AND_SPILL	20510917143
+SPILL	QUICK_SORT	13290080000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	7037949143
+SPILL	WRITE	1202273000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11649062
+SPILL	COMPRESS_BYTE_COUNT	11649170
+SPILL	SORT_AND_SPILL	18759674000
+SPILL	QUICK_SORT	10820313000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	7886913000
+SPILL	WRITE	1325606000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11780784
+SPILL	COMPRESS_BYTE_COUNT	11780892
+SPILL	SORT_AND_SPILL	19644316000
+SPILL	QUICK_SORT	10947650000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	7335151000
+SPILL	WRITE	1305540000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11341944
+SPILL	COMPRESS_BYTE_COUNT	11342052
+SPILL	SORT_AND_SPILL	19644038142
+SPILL	QUICK_SORT	11782184142
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	7811522000
+SPILL	WRITE	1197720000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11834758
+SPILL	COMPRESS_BYTE_COUNT	11834866
+SPILL	SORT_AND_SPILL	17516103000
+SPILL	QUICK_SORT	10310747000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	6867127000
+SPILL	WRITE	1142204000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11534682
+SPILL	COMPRESS_BYTE_COUNT	11534790
+SPILL	SORT_AND_SPILL	19385754143
+SPILL	QUICK_SORT	10602735000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	8735461143
+SPILL	WRITE	1359413000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11497080
+SPILL	COMPRESS_BYTE_COUNT	11497188
+SPILL	SORT_AND_SPILL	19362985000
+SPILL	QUICK_SORT	11885505000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	7037972000
+SPILL	WRITE	1268579000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11847619
+SPILL	COMPRESS_BYTE_COUNT	11847727
+SPILL	SORT_AND_SPILL	18549952000
+SPILL	QUICK_SORT	10429324000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	8073579000
+SPILL	WRITE	1300901000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11790637
+SPILL	COMPRESS_BYTE_COUNT	11790745
+SPILL	SORT_AND_SPILL	20191619142
+SPILL	QUICK_SORT	12304462142
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	7729270000
+SPILL	WRITE	1290225000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11751537
+SPILL	COMPRESS_BYTE_COUNT	11751645
+SPILL	SORT_AND_SPILL	19006655000
+SPILL	QUICK_SORT	10503392000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	8457283000
+SPILL	WRITE	1747829000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11775566
+SPILL	COMPRESS_BYTE_COUNT	11775674
+SPILL	SORT_AND_SPILL	18873171991
+SPILL	QUICK_SORT	10366455000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	7895288991
+SPILL	WRITE	1632641000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11783045
+SPILL	COMPRESS_BYTE_COUNT	11783153
+SPILL	SORT_AND_SPILL	18696512000
+SPILL	QUICK_SORT	10401388000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	8252133000
+SPILL	WRITE	1352191000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11038444
+SPILL	COMPRESS_BYTE_COUNT	11038552
+SPILL	SORT_AND_SPILL	21981680000
+SPILL	QUICK_SORT	11872013000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	8440014000
+SPILL	WRITE	1424818000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11854348
+SPILL	COMPRESS_BYTE_COUNT	11854456
+SPILL	SORT_AND_SPILL	19181776000
+SPILL	QUICK_SORT	10323138000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	8749725000
+SPILL	WRITE	1601780000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11468500
+SPILL	COMPRESS_BYTE_COUNT	11468608
+SPILL	SORT_AND_SPILL	20757325000
+SPILL	QUICK_SORT	11397896000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	8694889000
+SPILL	WRITE	1554125000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11620754
+SPILL	COMPRESS_BYTE_COUNT	11620862
+MAP	CLEANUP	51000
+MAP	CLEANUP_MEM	240967456
+MAP	TOTAL_RUN	516110518485
+MAP	READ	651603000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	100894
+MAP	VALUE_BYTE_COUNT	28725378
+MAP	MAP	515381186485
+MAP	WRITE	485247043485
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	28850966143
+MAP	SERIALIZE_OUTPUT	367118265905
+MAP	MAP_MEM	240967456
+SPILL	SORT_AND_SPILL	6390331000
+SPILL	QUICK_SORT	3585625000
+SPILL	SORT_COUNT	306710
+SPILL	COMBINE	2786416000
+SPILL	WRITE	606075000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	4546194
+SPILL	COMPRESS_BYTE_COUNT	4546302
+MERGE	TOTAL_MERGE	79224395133
+MERGE	READ_WRITE	77134765133
+MERGE	READ_WRITE_COUNT	81
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	602217866618
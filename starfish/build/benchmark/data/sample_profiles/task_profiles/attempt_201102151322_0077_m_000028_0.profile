@@ -0,0 +1,195 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt/part-00120	0
+MAP	STARTUP_MEM	214801400
+MAP	SETUP	561000
+MAP	SETUP_MEM	214801400
+SPILL	SORT_AND_SPILL	20293145000
+SPILL	QUICK_SORT	13823879000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	6311084000
+SPILL	WRITE	1106718000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11710868
+SPILL	COMPRESS_BYTE_COUNT	11710976
+SPILL	SORT_AND_SPILL	19716913000
+SPILL	QUICK_SORT	13717286000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5934618000
+SPILL	WRITE	1002840000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11438104
+SPILL	COMPRESS_BYTE_COUNT	11438212
+SPILL	SORT_AND_SPILL	19533819000
+SPILL	QUICK_SORT	13319655000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5932053000
+SPILL	WRITE	1129727000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11546192
+SPILL	COMPRESS_BYTE_COUNT	11546300
+SPILL	SORT_AND_SPILL	19080507000
+SPILL	QUICK_SORT	13192324000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5833939000
+SPILL	WRITE	1061007000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11865194
+SPILL	COMPRESS_BYTE_COUNT	11865302
+SPILL	SORT_AND_SPILL	18880570000
+SPILL	QUICK_SORT	12884736000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	5850877000
+SPILL	WRITE	1088984000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11723864
+SPILL	COMPRESS_BYTE_COUNT	11723972
+SPILL	SORT_AND_SPILL	18089191000
+SPILL	QUICK_SORT	12652113000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5391274000
+SPILL	WRITE	933217000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	10681096
+SPILL	COMPRESS_BYTE_COUNT	10681204
+SPILL	SORT_AND_SPILL	17948018000
+SPILL	QUICK_SORT	11757201000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5797133000
+SPILL	WRITE	1062023000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11838247
+SPILL	COMPRESS_BYTE_COUNT	11838355
+SPILL	SORT_AND_SPILL	20308395000
+SPILL	QUICK_SORT	13652219000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	6599943000
+SPILL	WRITE	1084526000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11508195
+SPILL	COMPRESS_BYTE_COUNT	11508303
+SPILL	SORT_AND_SPILL	18996096000
+SPILL	QUICK_SORT	12066778000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5778835000
+SPILL	WRITE	1060830000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11359824
+SPILL	COMPRESS_BYTE_COUNT	11359932
+SPILL	SORT_AND_SPILL	17856664000
+SPILL	QUICK_SORT	12279247000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	5533547000
+SPILL	WRITE	1033640000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11042060
+SPILL	COMPRESS_BYTE_COUNT	11042168
+SPILL	SORT_AND_SPILL	18970862000
+SPILL	QUICK_SORT	12562117000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5729439000
+SPILL	WRITE	1012152000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11418632
+SPILL	COMPRESS_BYTE_COUNT	11418740
+SPILL	SORT_AND_SPILL	18366033000
+SPILL	QUICK_SORT	12450832000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5865537000
+SPILL	WRITE	1005599000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11308879
+SPILL	COMPRESS_BYTE_COUNT	11308987
+SPILL	SORT_AND_SPILL	18529462000
+SPILL	QUICK_SORT	12623901000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5776826000
+SPILL	WRITE	1081115000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	10648226
+SPILL	COMPRESS_BYTE_COUNT	10648334
+SPILL	SORT_AND_SPILL	18966244000
+SPILL	QUICK_SORT	13266784000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5653258000
+SPILL	WRITE	1079305000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11222177
+SPILL	COMPRESS_BYTE_COUNT	11222285
+SPILL	SORT_AND_SPILL	17474743000
+SPILL	QUICK_SORT	10518983000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	6515879000
+SPILL	WRITE	1321232000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11649670
+SPILL	COMPRESS_BYTE_COUNT	11649778
+SPILL	SORT_AND_SPILL	20050745000
+SPILL	QUICK_SORT	11819461000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	8174254000
+SPILL	WRITE	1543079000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11539627
+SPILL	COMPRESS_BYTE_COUNT	11539735
+SPILL	SORT_AND_SPILL	19303101000
+SPILL	QUICK_SORT	12343142000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	6683832000
+SPILL	WRITE	944008000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	10559841
+SPILL	COMPRESS_BYTE_COUNT	10559949
+SPILL	SORT_AND_SPILL	18048735000
+SPILL	QUICK_SORT	11792184000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	6205872000
+SPILL	WRITE	1066973000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11323082
+SPILL	COMPRESS_BYTE_COUNT	11323190
+SPILL	SORT_AND_SPILL	17095119000
+SPILL	QUICK_SORT	11022737000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5956180000
+SPILL	WRITE	1233488000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	8944748
+SPILL	COMPRESS_BYTE_COUNT	8944856
+MAP	CLEANUP	105000
+MAP	CLEANUP_MEM	254702336
+MAP	TOTAL_RUN	444446996000
+MAP	READ	532351000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	129392
+MAP	VALUE_BYTE_COUNT	27166383
+MAP	MAP	440774308000
+MAP	WRITE	406045897000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	30138979000
+MAP	SERIALIZE_OUTPUT	312975655000
+MAP	MAP_MEM	254702336
+SPILL	SORT_AND_SPILL	16003292000
+SPILL	QUICK_SORT	10173095000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	5779323000
+SPILL	WRITE	1036956000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	10720450
+SPILL	COMPRESS_BYTE_COUNT	10720558
+SPILL	SORT_AND_SPILL	2421407000
+SPILL	QUICK_SORT	1476334000
+SPILL	SORT_COUNT	132963
+SPILL	COMBINE	874865000
+SPILL	WRITE	185793000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	2046012
+SPILL	COMPRESS_BYTE_COUNT	2046120
+MERGE	TOTAL_MERGE	73521842799
+MERGE	READ_WRITE	72542567799
+MERGE	READ_WRITE_COUNT	81
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	534986639799
@@ -0,0 +1,171 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt/part-00114	0
+MAP	STARTUP_MEM	214796672
+MAP	SETUP	527000
+MAP	SETUP_MEM	214796672
+SPILL	SORT_AND_SPILL	17115693000
+SPILL	QUICK_SORT	10626311000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	6333243000
+SPILL	WRITE	1199450000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	9714936
+SPILL	COMPRESS_BYTE_COUNT	9715044
+SPILL	SORT_AND_SPILL	18617693000
+SPILL	QUICK_SORT	11048477000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	7529367000
+SPILL	WRITE	2592302000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	9245411
+SPILL	COMPRESS_BYTE_COUNT	9245519
+SPILL	SORT_AND_SPILL	15273407529
+SPILL	QUICK_SORT	9547086529
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5600992000
+SPILL	WRITE	893895000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	8922867
+SPILL	COMPRESS_BYTE_COUNT	8922975
+SPILL	SORT_AND_SPILL	18379073000
+SPILL	QUICK_SORT	11900125000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	6437439000
+SPILL	WRITE	1024771000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	10294773
+SPILL	COMPRESS_BYTE_COUNT	10294881
+SPILL	SORT_AND_SPILL	16664576000
+SPILL	QUICK_SORT	9810396000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	6432347000
+SPILL	WRITE	1185804000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	10716744
+SPILL	COMPRESS_BYTE_COUNT	10716852
+SPILL	SORT_AND_SPILL	19654643000
+SPILL	QUICK_SORT	11747115000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	7868746000
+SPILL	WRITE	1255700000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	8684005
+SPILL	COMPRESS_BYTE_COUNT	8684113
+SPILL	SORT_AND_SPILL	18443634000
+SPILL	QUICK_SORT	11072310000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	7230086000
+SPILL	WRITE	1208156000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11036220
+SPILL	COMPRESS_BYTE_COUNT	11036328
+SPILL	SORT_AND_SPILL	16652897729
+SPILL	QUICK_SORT	10057798000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	6553359729
+SPILL	WRITE	1249347000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11116467
+SPILL	COMPRESS_BYTE_COUNT	11116575
+SPILL	SORT_AND_SPILL	16251951000
+SPILL	QUICK_SORT	9559220000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	6445374000
+SPILL	WRITE	1284016000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	9963115
+SPILL	COMPRESS_BYTE_COUNT	9963223
+SPILL	SORT_AND_SPILL	18058706000
+SPILL	QUICK_SORT	10116221000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	7901937000
+SPILL	WRITE	1381276000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11258957
+SPILL	COMPRESS_BYTE_COUNT	11259065
+SPILL	SORT_AND_SPILL	18285212425
+SPILL	QUICK_SORT	9878191425
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	8303308000
+SPILL	WRITE	1451067000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11851861
+SPILL	COMPRESS_BYTE_COUNT	11851969
+SPILL	SORT_AND_SPILL	16319692000
+SPILL	QUICK_SORT	10072580000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	6205574000
+SPILL	WRITE	1064353000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	10197892
+SPILL	COMPRESS_BYTE_COUNT	10198000
+SPILL	SORT_AND_SPILL	16658915000
+SPILL	QUICK_SORT	10020243000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	6518966000
+SPILL	WRITE	1110291000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	10921382
+SPILL	COMPRESS_BYTE_COUNT	10921490
+SPILL	SORT_AND_SPILL	17694595000
+SPILL	QUICK_SORT	10243102000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	7412320000
+SPILL	WRITE	1527760000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11894554
+SPILL	COMPRESS_BYTE_COUNT	11894662
+SPILL	SORT_AND_SPILL	19999726000
+SPILL	QUICK_SORT	11630801000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	8146813000
+SPILL	WRITE	1500546000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11671363
+SPILL	COMPRESS_BYTE_COUNT	11671471
+SPILL	SORT_AND_SPILL	20739681729
+SPILL	QUICK_SORT	11516336729
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	9058571000
+SPILL	WRITE	1638556000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12074040
+SPILL	COMPRESS_BYTE_COUNT	12074148
+SPILL	SORT_AND_SPILL	14052423000
+SPILL	QUICK_SORT	7434500000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	6448420000
+SPILL	WRITE	1006332000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	8316316
+SPILL	COMPRESS_BYTE_COUNT	8316424
+MAP	CLEANUP	111000
+MAP	CLEANUP_MEM	271564224
+MAP	TOTAL_RUN	386681071416
+MAP	READ	704651000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	117648
+MAP	VALUE_BYTE_COUNT	23985066
+MAP	MAP	385778527416
+MAP	WRITE	352553979887
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	27806179426
+MAP	SERIALIZE_OUTPUT	257997928883
+MAP	MAP_MEM	271564224
+SPILL	SORT_AND_SPILL	12566834000
+SPILL	QUICK_SORT	7178904000
+SPILL	SORT_COUNT	634495
+SPILL	COMBINE	5358124000
+SPILL	WRITE	1020347000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	9118443
+SPILL	COMPRESS_BYTE_COUNT	9118551
+MERGE	TOTAL_MERGE	52972429426
+MERGE	READ_WRITE	52125382426
+MERGE	READ_WRITE_COUNT	54
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	452802834842
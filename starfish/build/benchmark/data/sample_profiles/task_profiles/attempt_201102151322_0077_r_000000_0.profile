@@ -0,0 +1,149 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	8371258
+SHUFFLE	COMPRESS_BYTE_COUNT	8371262
+SHUFFLE	COPY_MAP_DATA	513360000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	6952026
+SHUFFLE	COMPRESS_BYTE_COUNT	6952030
+SHUFFLE	COPY_MAP_DATA	127005000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9809484
+SHUFFLE	COMPRESS_BYTE_COUNT	9809488
+SHUFFLE	COPY_MAP_DATA	396466000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10183838
+SHUFFLE	COMPRESS_BYTE_COUNT	10183842
+SHUFFLE	COPY_MAP_DATA	249608000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9228796
+SHUFFLE	COMPRESS_BYTE_COUNT	9228800
+SHUFFLE	COPY_MAP_DATA	230228000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10238206
+SHUFFLE	COMPRESS_BYTE_COUNT	10238210
+SHUFFLE	COPY_MAP_DATA	137448000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10747018
+SHUFFLE	COMPRESS_BYTE_COUNT	10747022
+SHUFFLE	COPY_MAP_DATA	357167000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10687098
+SHUFFLE	COMPRESS_BYTE_COUNT	10687102
+SHUFFLE	COPY_MAP_DATA	262801000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10349476
+SHUFFLE	COMPRESS_BYTE_COUNT	10349480
+SHUFFLE	COPY_MAP_DATA	192484000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9593150
+SHUFFLE	COMPRESS_BYTE_COUNT	9593154
+SHUFFLE	COPY_MAP_DATA	185647000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10302418
+SHUFFLE	COMPRESS_BYTE_COUNT	10302422
+SHUFFLE	COPY_MAP_DATA	1036879000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10547246
+SHUFFLE	COMPRESS_BYTE_COUNT	10547250
+SHUFFLE	COPY_MAP_DATA	2263138000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11212042
+SHUFFLE	COMPRESS_BYTE_COUNT	11212046
+SHUFFLE	COPY_MAP_DATA	226674000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10592088
+SHUFFLE	COMPRESS_BYTE_COUNT	10592092
+SHUFFLE	COPY_MAP_DATA	175625000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10479723
+SHUFFLE	COMPRESS_BYTE_COUNT	10479727
+SHUFFLE	COPY_MAP_DATA	534877000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12455482
+SHUFFLE	COMPRESS_BYTE_COUNT	12455486
+SHUFFLE	COPY_MAP_DATA	832214000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11954130
+SHUFFLE	COMPRESS_BYTE_COUNT	11954134
+SHUFFLE	COPY_MAP_DATA	249453000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11647666
+SHUFFLE	COMPRESS_BYTE_COUNT	11647670
+SHUFFLE	COPY_MAP_DATA	2562318000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12955886
+SHUFFLE	COMPRESS_BYTE_COUNT	12955890
+SHUFFLE	COPY_MAP_DATA	695656000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12095996
+SHUFFLE	COMPRESS_BYTE_COUNT	12096000
+SHUFFLE	COPY_MAP_DATA	2448834000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13658100
+SHUFFLE	COMPRESS_BYTE_COUNT	13658104
+SHUFFLE	COPY_MAP_DATA	988055000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12737488
+SHUFFLE	COMPRESS_BYTE_COUNT	12737492
+SHUFFLE	COPY_MAP_DATA	397337000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12557208
+SHUFFLE	COMPRESS_BYTE_COUNT	12557212
+SHUFFLE	COPY_MAP_DATA	3992583000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12995736
+SHUFFLE	COMPRESS_BYTE_COUNT	12995740
+SHUFFLE	COPY_MAP_DATA	7070230000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12228697
+SHUFFLE	COMPRESS_BYTE_COUNT	12228701
+SHUFFLE	COPY_MAP_DATA	5748112000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11687854
+SHUFFLE	COMPRESS_BYTE_COUNT	11687858
+SHUFFLE	COPY_MAP_DATA	4060613000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13056583
+SHUFFLE	COMPRESS_BYTE_COUNT	13056587
+SHUFFLE	COPY_MAP_DATA	3040428000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13721314
+SHUFFLE	COMPRESS_BYTE_COUNT	13721318
+SHUFFLE	COPY_MAP_DATA	3190303000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12914942
+SHUFFLE	COMPRESS_BYTE_COUNT	12914946
+SHUFFLE	COPY_MAP_DATA	2751858000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13367147
+SHUFFLE	COMPRESS_BYTE_COUNT	13367151
+SHUFFLE	COPY_MAP_DATA	1799927000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	98521694000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	COMBINE	98315875000
+MERGE	WRITE	13190440000
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	9358925000
+SORT	READ_WRITE	9251240000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	91994384
+REDUCE	SETUP	284000
+REDUCE	SETUP_MEM	91994384
+REDUCE	CLEANUP	47000
+REDUCE	CLEANUP_MEM	95749440
+REDUCE	TOTAL_RUN	103692453000
+REDUCE	READ	20452708000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	50109724000
+REDUCE	WRITE	21669570000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	115457728
+REDUCE	VALUE_BYTE_COUNT	6903047
+REDUCE	REDUCE_MEM	95751488
+REDUCE	WRITE	27262000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	609400787000
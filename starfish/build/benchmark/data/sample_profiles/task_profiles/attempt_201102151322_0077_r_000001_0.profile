@@ -0,0 +1,149 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	8370910
+SHUFFLE	COMPRESS_BYTE_COUNT	8370914
+SHUFFLE	COPY_MAP_DATA	1014990000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	6900890
+SHUFFLE	COMPRESS_BYTE_COUNT	6900894
+SHUFFLE	COPY_MAP_DATA	594316000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9814948
+SHUFFLE	COMPRESS_BYTE_COUNT	9814952
+SHUFFLE	COPY_MAP_DATA	1431356000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10218532
+SHUFFLE	COMPRESS_BYTE_COUNT	10218536
+SHUFFLE	COPY_MAP_DATA	1292423000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10209154
+SHUFFLE	COMPRESS_BYTE_COUNT	10209158
+SHUFFLE	COPY_MAP_DATA	346328000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9216240
+SHUFFLE	COMPRESS_BYTE_COUNT	9216244
+SHUFFLE	COPY_MAP_DATA	878445000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10744782
+SHUFFLE	COMPRESS_BYTE_COUNT	10744786
+SHUFFLE	COPY_MAP_DATA	2703850000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10701156
+SHUFFLE	COMPRESS_BYTE_COUNT	10701160
+SHUFFLE	COPY_MAP_DATA	678497000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10316383
+SHUFFLE	COMPRESS_BYTE_COUNT	10316387
+SHUFFLE	COPY_MAP_DATA	734505000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9570118
+SHUFFLE	COMPRESS_BYTE_COUNT	9570122
+SHUFFLE	COPY_MAP_DATA	364676000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10367617
+SHUFFLE	COMPRESS_BYTE_COUNT	10367621
+SHUFFLE	COPY_MAP_DATA	5837651000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10511386
+SHUFFLE	COMPRESS_BYTE_COUNT	10511390
+SHUFFLE	COPY_MAP_DATA	3375341000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11183851
+SHUFFLE	COMPRESS_BYTE_COUNT	11183855
+SHUFFLE	COPY_MAP_DATA	184200000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10598709
+SHUFFLE	COMPRESS_BYTE_COUNT	10598713
+SHUFFLE	COPY_MAP_DATA	1791038000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10436567
+SHUFFLE	COMPRESS_BYTE_COUNT	10436571
+SHUFFLE	COPY_MAP_DATA	178503000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12472768
+SHUFFLE	COMPRESS_BYTE_COUNT	12472772
+SHUFFLE	COPY_MAP_DATA	259601000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11958528
+SHUFFLE	COMPRESS_BYTE_COUNT	11958532
+SHUFFLE	COPY_MAP_DATA	1155116000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11659353
+SHUFFLE	COMPRESS_BYTE_COUNT	11659357
+SHUFFLE	COPY_MAP_DATA	1579903000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12861962
+SHUFFLE	COMPRESS_BYTE_COUNT	12861966
+SHUFFLE	COPY_MAP_DATA	1876804000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12020195
+SHUFFLE	COMPRESS_BYTE_COUNT	12020199
+SHUFFLE	COPY_MAP_DATA	3278720000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13650831
+SHUFFLE	COMPRESS_BYTE_COUNT	13650835
+SHUFFLE	COPY_MAP_DATA	88598953101
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12764198
+SHUFFLE	COMPRESS_BYTE_COUNT	12764202
+SHUFFLE	COPY_MAP_DATA	1073990000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12605273
+SHUFFLE	COMPRESS_BYTE_COUNT	12605277
+SHUFFLE	COPY_MAP_DATA	824920000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12186630
+SHUFFLE	COMPRESS_BYTE_COUNT	12186634
+SHUFFLE	COPY_MAP_DATA	3724783000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12968000
+SHUFFLE	COMPRESS_BYTE_COUNT	12968004
+SHUFFLE	COPY_MAP_DATA	348933000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11701028
+SHUFFLE	COMPRESS_BYTE_COUNT	11701032
+SHUFFLE	COPY_MAP_DATA	3496685000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12966454
+SHUFFLE	COMPRESS_BYTE_COUNT	12966458
+SHUFFLE	COPY_MAP_DATA	2489705000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13677948
+SHUFFLE	COMPRESS_BYTE_COUNT	13677952
+SHUFFLE	COPY_MAP_DATA	2795486101
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12868736
+SHUFFLE	COMPRESS_BYTE_COUNT	12868740
+SHUFFLE	COPY_MAP_DATA	279321000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13363394
+SHUFFLE	COMPRESS_BYTE_COUNT	13363398
+SHUFFLE	COPY_MAP_DATA	2112121000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	334545565648
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	COMBINE	333883031648
+MERGE	WRITE	49020871000
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	5424544101
+SORT	READ_WRITE	5196025101
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	203363528
+REDUCE	SETUP	13067000
+REDUCE	SETUP_MEM	203365576
+REDUCE	CLEANUP	34000
+REDUCE	CLEANUP_MEM	201035808
+REDUCE	TOTAL_RUN	124130752202
+REDUCE	READ	20188362000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	57163392949
+REDUCE	WRITE	25552292000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	115384112
+REDUCE	VALUE_BYTE_COUNT	6900075
+REDUCE	REDUCE_MEM	201037856
+REDUCE	WRITE	9614000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	627771830254
@@ -0,0 +1,149 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	6914644
+SHUFFLE	COMPRESS_BYTE_COUNT	6914648
+SHUFFLE	COPY_MAP_DATA	9370481000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	8365654
+SHUFFLE	COMPRESS_BYTE_COUNT	8365658
+SHUFFLE	COPY_MAP_DATA	1420241000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9779695
+SHUFFLE	COMPRESS_BYTE_COUNT	9779699
+SHUFFLE	COPY_MAP_DATA	887900000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10213054
+SHUFFLE	COMPRESS_BYTE_COUNT	10213058
+SHUFFLE	COPY_MAP_DATA	1843769000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9184306
+SHUFFLE	COMPRESS_BYTE_COUNT	9184310
+SHUFFLE	COPY_MAP_DATA	347760000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10253334
+SHUFFLE	COMPRESS_BYTE_COUNT	10253338
+SHUFFLE	COPY_MAP_DATA	1275974000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10297348
+SHUFFLE	COMPRESS_BYTE_COUNT	10297352
+SHUFFLE	COPY_MAP_DATA	604427000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10716582
+SHUFFLE	COMPRESS_BYTE_COUNT	10716586
+SHUFFLE	COPY_MAP_DATA	360516000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10651112
+SHUFFLE	COMPRESS_BYTE_COUNT	10651116
+SHUFFLE	COPY_MAP_DATA	507568000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9586726
+SHUFFLE	COMPRESS_BYTE_COUNT	9586730
+SHUFFLE	COPY_MAP_DATA	157239000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10294400
+SHUFFLE	COMPRESS_BYTE_COUNT	10294404
+SHUFFLE	COPY_MAP_DATA	2666528000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11204930
+SHUFFLE	COMPRESS_BYTE_COUNT	11204934
+SHUFFLE	COPY_MAP_DATA	205632000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10538030
+SHUFFLE	COMPRESS_BYTE_COUNT	10538034
+SHUFFLE	COPY_MAP_DATA	82790000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10522855
+SHUFFLE	COMPRESS_BYTE_COUNT	10522859
+SHUFFLE	COPY_MAP_DATA	3974065000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10422198
+SHUFFLE	COMPRESS_BYTE_COUNT	10422202
+SHUFFLE	COPY_MAP_DATA	330734000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11941268
+SHUFFLE	COMPRESS_BYTE_COUNT	11941272
+SHUFFLE	COPY_MAP_DATA	219446000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12494419
+SHUFFLE	COMPRESS_BYTE_COUNT	12494423
+SHUFFLE	COPY_MAP_DATA	229071000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11647655
+SHUFFLE	COMPRESS_BYTE_COUNT	11647659
+SHUFFLE	COPY_MAP_DATA	1118930000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12834865
+SHUFFLE	COMPRESS_BYTE_COUNT	12834869
+SHUFFLE	COPY_MAP_DATA	339399000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12034082
+SHUFFLE	COMPRESS_BYTE_COUNT	12034086
+SHUFFLE	COPY_MAP_DATA	807485000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13614084
+SHUFFLE	COMPRESS_BYTE_COUNT	13614088
+SHUFFLE	COPY_MAP_DATA	1531301000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12670856
+SHUFFLE	COMPRESS_BYTE_COUNT	12670860
+SHUFFLE	COPY_MAP_DATA	265595000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12547940
+SHUFFLE	COMPRESS_BYTE_COUNT	12547944
+SHUFFLE	COPY_MAP_DATA	7104358000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12962528
+SHUFFLE	COMPRESS_BYTE_COUNT	12962532
+SHUFFLE	COPY_MAP_DATA	6139991000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12164902
+SHUFFLE	COMPRESS_BYTE_COUNT	12164906
+SHUFFLE	COPY_MAP_DATA	5843130000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11696884
+SHUFFLE	COMPRESS_BYTE_COUNT	11696888
+SHUFFLE	COPY_MAP_DATA	4205169000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12993488
+SHUFFLE	COMPRESS_BYTE_COUNT	12993492
+SHUFFLE	COPY_MAP_DATA	582438000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13623000
+SHUFFLE	COMPRESS_BYTE_COUNT	13623004
+SHUFFLE	COPY_MAP_DATA	3398284000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12851972
+SHUFFLE	COMPRESS_BYTE_COUNT	12851976
+SHUFFLE	COPY_MAP_DATA	611021000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13308789
+SHUFFLE	COMPRESS_BYTE_COUNT	13308793
+SHUFFLE	COPY_MAP_DATA	2410472000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	121370917000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	COMBINE	120222685000
+MERGE	WRITE	16661169000
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	4861740000
+SORT	READ_WRITE	4773204000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	117341416
+REDUCE	SETUP	337000
+REDUCE	SETUP_MEM	117341416
+REDUCE	CLEANUP	43000
+REDUCE	CLEANUP_MEM	94324480
+REDUCE	TOTAL_RUN	110857121000
+REDUCE	READ	21706213000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	53311618000
+REDUCE	WRITE	24241673000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	115395830
+REDUCE	VALUE_BYTE_COUNT	6900008
+REDUCE	REDUCE_MEM	94324480
+REDUCE	WRITE	23433000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	607317638000
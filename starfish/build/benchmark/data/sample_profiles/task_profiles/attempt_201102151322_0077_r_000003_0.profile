@@ -0,0 +1,149 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	8364506
+SHUFFLE	COMPRESS_BYTE_COUNT	8364510
+SHUFFLE	COPY_MAP_DATA	3725819000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	6902146
+SHUFFLE	COMPRESS_BYTE_COUNT	6902150
+SHUFFLE	COPY_MAP_DATA	147066000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9799860
+SHUFFLE	COMPRESS_BYTE_COUNT	9799864
+SHUFFLE	COPY_MAP_DATA	499513000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10226327
+SHUFFLE	COMPRESS_BYTE_COUNT	10226331
+SHUFFLE	COPY_MAP_DATA	4317362000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10249154
+SHUFFLE	COMPRESS_BYTE_COUNT	10249158
+SHUFFLE	COPY_MAP_DATA	501354000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9215328
+SHUFFLE	COMPRESS_BYTE_COUNT	9215332
+SHUFFLE	COPY_MAP_DATA	512575000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10716474
+SHUFFLE	COMPRESS_BYTE_COUNT	10716478
+SHUFFLE	COPY_MAP_DATA	236397000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10747916
+SHUFFLE	COMPRESS_BYTE_COUNT	10747920
+SHUFFLE	COPY_MAP_DATA	162481000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10276710
+SHUFFLE	COMPRESS_BYTE_COUNT	10276714
+SHUFFLE	COPY_MAP_DATA	411854000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9630696
+SHUFFLE	COMPRESS_BYTE_COUNT	9630700
+SHUFFLE	COPY_MAP_DATA	187262000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11193799
+SHUFFLE	COMPRESS_BYTE_COUNT	11193803
+SHUFFLE	COPY_MAP_DATA	322770000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10350452
+SHUFFLE	COMPRESS_BYTE_COUNT	10350456
+SHUFFLE	COPY_MAP_DATA	2010674000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10551254
+SHUFFLE	COMPRESS_BYTE_COUNT	10551258
+SHUFFLE	COPY_MAP_DATA	127598000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10545452
+SHUFFLE	COMPRESS_BYTE_COUNT	10545456
+SHUFFLE	COPY_MAP_DATA	4511568000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10472418
+SHUFFLE	COMPRESS_BYTE_COUNT	10472422
+SHUFFLE	COPY_MAP_DATA	135991000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11972824
+SHUFFLE	COMPRESS_BYTE_COUNT	11972828
+SHUFFLE	COPY_MAP_DATA	551965000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12489507
+SHUFFLE	COMPRESS_BYTE_COUNT	12489511
+SHUFFLE	COPY_MAP_DATA	334878000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11670777
+SHUFFLE	COMPRESS_BYTE_COUNT	11670781
+SHUFFLE	COPY_MAP_DATA	2893733000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12049784
+SHUFFLE	COMPRESS_BYTE_COUNT	12049788
+SHUFFLE	COPY_MAP_DATA	3058982000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12933694
+SHUFFLE	COMPRESS_BYTE_COUNT	12933698
+SHUFFLE	COPY_MAP_DATA	178775000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13663376
+SHUFFLE	COMPRESS_BYTE_COUNT	13663380
+SHUFFLE	COPY_MAP_DATA	373139000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12764222
+SHUFFLE	COMPRESS_BYTE_COUNT	12764226
+SHUFFLE	COPY_MAP_DATA	352203000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12595770
+SHUFFLE	COMPRESS_BYTE_COUNT	12595774
+SHUFFLE	COPY_MAP_DATA	7705505000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13043412
+SHUFFLE	COMPRESS_BYTE_COUNT	13043416
+SHUFFLE	COPY_MAP_DATA	7523600000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12232964
+SHUFFLE	COMPRESS_BYTE_COUNT	12232968
+SHUFFLE	COPY_MAP_DATA	5058167000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11670806
+SHUFFLE	COMPRESS_BYTE_COUNT	11670810
+SHUFFLE	COPY_MAP_DATA	291420000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13045214
+SHUFFLE	COMPRESS_BYTE_COUNT	13045218
+SHUFFLE	COPY_MAP_DATA	550816000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13679232
+SHUFFLE	COMPRESS_BYTE_COUNT	13679236
+SHUFFLE	COPY_MAP_DATA	3969440000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12873356
+SHUFFLE	COMPRESS_BYTE_COUNT	12873360
+SHUFFLE	COPY_MAP_DATA	402163000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13393076
+SHUFFLE	COMPRESS_BYTE_COUNT	13393080
+SHUFFLE	COPY_MAP_DATA	2444913000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	119804957000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	COMBINE	119105860000
+MERGE	WRITE	16609679000
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	7046593000
+SORT	READ_WRITE	6901172000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	115100088
+REDUCE	SETUP	465000
+REDUCE	SETUP_MEM	115100088
+REDUCE	CLEANUP	31000
+REDUCE	CLEANUP_MEM	126899992
+REDUCE	TOTAL_RUN	108681701000
+REDUCE	READ	19772442000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	53773478000
+REDUCE	WRITE	26345438000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	115361184
+REDUCE	VALUE_BYTE_COUNT	6897412
+REDUCE	REDUCE_MEM	126899992
+REDUCE	WRITE	8660000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	613081163000
@@ -0,0 +1,149 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	6964298
+SHUFFLE	COMPRESS_BYTE_COUNT	6964302
+SHUFFLE	COPY_MAP_DATA	1126588000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	8452644
+SHUFFLE	COMPRESS_BYTE_COUNT	8452648
+SHUFFLE	COPY_MAP_DATA	628243000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9848724
+SHUFFLE	COMPRESS_BYTE_COUNT	9848728
+SHUFFLE	COPY_MAP_DATA	2141790000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10241404
+SHUFFLE	COMPRESS_BYTE_COUNT	10241408
+SHUFFLE	COPY_MAP_DATA	516894000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9264624
+SHUFFLE	COMPRESS_BYTE_COUNT	9264628
+SHUFFLE	COPY_MAP_DATA	1890577000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10301226
+SHUFFLE	COMPRESS_BYTE_COUNT	10301230
+SHUFFLE	COPY_MAP_DATA	110610000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10391480
+SHUFFLE	COMPRESS_BYTE_COUNT	10391484
+SHUFFLE	COPY_MAP_DATA	653554000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10728784
+SHUFFLE	COMPRESS_BYTE_COUNT	10728788
+SHUFFLE	COPY_MAP_DATA	447583000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10877360
+SHUFFLE	COMPRESS_BYTE_COUNT	10877364
+SHUFFLE	COPY_MAP_DATA	588710000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9682742
+SHUFFLE	COMPRESS_BYTE_COUNT	9682746
+SHUFFLE	COPY_MAP_DATA	561148000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10371310
+SHUFFLE	COMPRESS_BYTE_COUNT	10371314
+SHUFFLE	COPY_MAP_DATA	807308000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11234201
+SHUFFLE	COMPRESS_BYTE_COUNT	11234205
+SHUFFLE	COPY_MAP_DATA	832630000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10568048
+SHUFFLE	COMPRESS_BYTE_COUNT	10568052
+SHUFFLE	COPY_MAP_DATA	4598741000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10626683
+SHUFFLE	COMPRESS_BYTE_COUNT	10626687
+SHUFFLE	COPY_MAP_DATA	198163000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10532880
+SHUFFLE	COMPRESS_BYTE_COUNT	10532884
+SHUFFLE	COPY_MAP_DATA	349349000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12546160
+SHUFFLE	COMPRESS_BYTE_COUNT	12546164
+SHUFFLE	COPY_MAP_DATA	2711251000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12053010
+SHUFFLE	COMPRESS_BYTE_COUNT	12053014
+SHUFFLE	COPY_MAP_DATA	662686000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11756224
+SHUFFLE	COMPRESS_BYTE_COUNT	11756228
+SHUFFLE	COPY_MAP_DATA	2787728000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12989210
+SHUFFLE	COMPRESS_BYTE_COUNT	12989214
+SHUFFLE	COPY_MAP_DATA	803215000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12149558
+SHUFFLE	COMPRESS_BYTE_COUNT	12149562
+SHUFFLE	COPY_MAP_DATA	4936240000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13733418
+SHUFFLE	COMPRESS_BYTE_COUNT	13733422
+SHUFFLE	COPY_MAP_DATA	27027629000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12875552
+SHUFFLE	COMPRESS_BYTE_COUNT	12875556
+SHUFFLE	COPY_MAP_DATA	444982000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12637765
+SHUFFLE	COMPRESS_BYTE_COUNT	12637769
+SHUFFLE	COPY_MAP_DATA	7336867000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13100825
+SHUFFLE	COMPRESS_BYTE_COUNT	13100829
+SHUFFLE	COPY_MAP_DATA	7444021000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12239188
+SHUFFLE	COMPRESS_BYTE_COUNT	12239192
+SHUFFLE	COPY_MAP_DATA	5522382000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11803320
+SHUFFLE	COMPRESS_BYTE_COUNT	11803324
+SHUFFLE	COPY_MAP_DATA	3091914000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13108687
+SHUFFLE	COMPRESS_BYTE_COUNT	13108691
+SHUFFLE	COPY_MAP_DATA	2260093000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13691320
+SHUFFLE	COMPRESS_BYTE_COUNT	13691324
+SHUFFLE	COPY_MAP_DATA	3408759000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12942732
+SHUFFLE	COMPRESS_BYTE_COUNT	12942736
+SHUFFLE	COPY_MAP_DATA	3875423000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13473018
+SHUFFLE	COMPRESS_BYTE_COUNT	13473022
+SHUFFLE	COPY_MAP_DATA	1453231000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	220688865871
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	COMBINE	219935543871
+MERGE	WRITE	35620979756
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	25831728604
+SORT	READ_WRITE	25337534604
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	156651624
+REDUCE	SETUP	344000
+REDUCE	SETUP_MEM	156651624
+REDUCE	CLEANUP	39000
+REDUCE	CLEANUP_MEM	188469048
+REDUCE	TOTAL_RUN	163475248493
+REDUCE	READ	40245417000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	76252121493
+REDUCE	WRITE	23860627737
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	115508786
+REDUCE	VALUE_BYTE_COUNT	6905222
+REDUCE	REDUCE_MEM	188469048
+REDUCE	WRITE	7617000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	680766735144
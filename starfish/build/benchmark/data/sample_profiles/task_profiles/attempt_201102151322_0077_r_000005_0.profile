@@ -0,0 +1,149 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	8412112
+SHUFFLE	COMPRESS_BYTE_COUNT	8412116
+SHUFFLE	COPY_MAP_DATA	2569573000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	6948714
+SHUFFLE	COMPRESS_BYTE_COUNT	6948718
+SHUFFLE	COPY_MAP_DATA	116470000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9847028
+SHUFFLE	COMPRESS_BYTE_COUNT	9847032
+SHUFFLE	COPY_MAP_DATA	922719000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10212718
+SHUFFLE	COMPRESS_BYTE_COUNT	10212722
+SHUFFLE	COPY_MAP_DATA	899418000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10293838
+SHUFFLE	COMPRESS_BYTE_COUNT	10293842
+SHUFFLE	COPY_MAP_DATA	182012000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9264912
+SHUFFLE	COMPRESS_BYTE_COUNT	9264916
+SHUFFLE	COPY_MAP_DATA	118661000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10814062
+SHUFFLE	COMPRESS_BYTE_COUNT	10814066
+SHUFFLE	COPY_MAP_DATA	1090862000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10719934
+SHUFFLE	COMPRESS_BYTE_COUNT	10719938
+SHUFFLE	COPY_MAP_DATA	401007000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10323126
+SHUFFLE	COMPRESS_BYTE_COUNT	10323130
+SHUFFLE	COPY_MAP_DATA	414587000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9665258
+SHUFFLE	COMPRESS_BYTE_COUNT	9665262
+SHUFFLE	COPY_MAP_DATA	2525095000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10351466
+SHUFFLE	COMPRESS_BYTE_COUNT	10351470
+SHUFFLE	COPY_MAP_DATA	969042000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10554984
+SHUFFLE	COMPRESS_BYTE_COUNT	10554988
+SHUFFLE	COPY_MAP_DATA	3269323000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10598136
+SHUFFLE	COMPRESS_BYTE_COUNT	10598140
+SHUFFLE	COPY_MAP_DATA	165814000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11235273
+SHUFFLE	COMPRESS_BYTE_COUNT	11235277
+SHUFFLE	COPY_MAP_DATA	186432000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10474964
+SHUFFLE	COMPRESS_BYTE_COUNT	10474968
+SHUFFLE	COPY_MAP_DATA	265130000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12491844
+SHUFFLE	COMPRESS_BYTE_COUNT	12491848
+SHUFFLE	COPY_MAP_DATA	825332000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12034482
+SHUFFLE	COMPRESS_BYTE_COUNT	12034486
+SHUFFLE	COPY_MAP_DATA	395322000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11738354
+SHUFFLE	COMPRESS_BYTE_COUNT	11738358
+SHUFFLE	COPY_MAP_DATA	1629186262
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12971518
+SHUFFLE	COMPRESS_BYTE_COUNT	12971522
+SHUFFLE	COPY_MAP_DATA	1163663000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12112259
+SHUFFLE	COMPRESS_BYTE_COUNT	12112263
+SHUFFLE	COPY_MAP_DATA	3847041000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13672636
+SHUFFLE	COMPRESS_BYTE_COUNT	13672640
+SHUFFLE	COPY_MAP_DATA	1179391000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12781196
+SHUFFLE	COMPRESS_BYTE_COUNT	12781200
+SHUFFLE	COPY_MAP_DATA	314371000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12667942
+SHUFFLE	COMPRESS_BYTE_COUNT	12667946
+SHUFFLE	COPY_MAP_DATA	8697310000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13062968
+SHUFFLE	COMPRESS_BYTE_COUNT	13062972
+SHUFFLE	COPY_MAP_DATA	222991000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12235762
+SHUFFLE	COMPRESS_BYTE_COUNT	12235766
+SHUFFLE	COPY_MAP_DATA	6291259000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11768064
+SHUFFLE	COMPRESS_BYTE_COUNT	11768068
+SHUFFLE	COPY_MAP_DATA	3878309000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13079533
+SHUFFLE	COMPRESS_BYTE_COUNT	13079537
+SHUFFLE	COPY_MAP_DATA	2477462000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13676734
+SHUFFLE	COMPRESS_BYTE_COUNT	13676738
+SHUFFLE	COPY_MAP_DATA	1006589000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12939512
+SHUFFLE	COMPRESS_BYTE_COUNT	12939516
+SHUFFLE	COPY_MAP_DATA	2819459000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13382820
+SHUFFLE	COMPRESS_BYTE_COUNT	13382824
+SHUFFLE	COPY_MAP_DATA	2070339000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	213657024993
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	COMBINE	212101106993
+MERGE	WRITE	31318062985
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	11544566935
+SORT	READ_WRITE	11301831935
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	150143824
+REDUCE	SETUP	342000
+REDUCE	SETUP_MEM	150143824
+REDUCE	CLEANUP	50000
+REDUCE	CLEANUP_MEM	118586936
+REDUCE	TOTAL_RUN	154753743127
+REDUCE	READ	33713188000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	72873960325
+REDUCE	WRITE	34416131000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	115412592
+REDUCE	VALUE_BYTE_COUNT	6901968
+REDUCE	REDUCE_MEM	118588984
+REDUCE	WRITE	544332000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	661512311412
@@ -0,0 +1,149 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	6905006
+SHUFFLE	COMPRESS_BYTE_COUNT	6905010
+SHUFFLE	COPY_MAP_DATA	12784422000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	8335222
+SHUFFLE	COMPRESS_BYTE_COUNT	8335226
+SHUFFLE	COPY_MAP_DATA	348290000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9743934
+SHUFFLE	COMPRESS_BYTE_COUNT	9743938
+SHUFFLE	COPY_MAP_DATA	8012491000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10162894
+SHUFFLE	COMPRESS_BYTE_COUNT	10162898
+SHUFFLE	COPY_MAP_DATA	131881000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10183034
+SHUFFLE	COMPRESS_BYTE_COUNT	10183038
+SHUFFLE	COPY_MAP_DATA	187909000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9149110
+SHUFFLE	COMPRESS_BYTE_COUNT	9149114
+SHUFFLE	COPY_MAP_DATA	102890000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10724167
+SHUFFLE	COMPRESS_BYTE_COUNT	10724171
+SHUFFLE	COPY_MAP_DATA	2476768000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10628334
+SHUFFLE	COMPRESS_BYTE_COUNT	10628338
+SHUFFLE	COPY_MAP_DATA	538948000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10250745
+SHUFFLE	COMPRESS_BYTE_COUNT	10250749
+SHUFFLE	COPY_MAP_DATA	338302000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9573770
+SHUFFLE	COMPRESS_BYTE_COUNT	9573774
+SHUFFLE	COPY_MAP_DATA	1090154000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10275446
+SHUFFLE	COMPRESS_BYTE_COUNT	10275450
+SHUFFLE	COPY_MAP_DATA	4259150000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11122393
+SHUFFLE	COMPRESS_BYTE_COUNT	11122397
+SHUFFLE	COPY_MAP_DATA	334041000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10529392
+SHUFFLE	COMPRESS_BYTE_COUNT	10529396
+SHUFFLE	COPY_MAP_DATA	201674000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10507866
+SHUFFLE	COMPRESS_BYTE_COUNT	10507870
+SHUFFLE	COPY_MAP_DATA	1247877000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10437294
+SHUFFLE	COMPRESS_BYTE_COUNT	10437298
+SHUFFLE	COPY_MAP_DATA	1253225000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11895414
+SHUFFLE	COMPRESS_BYTE_COUNT	11895418
+SHUFFLE	COPY_MAP_DATA	1164404000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12416067
+SHUFFLE	COMPRESS_BYTE_COUNT	12416071
+SHUFFLE	COPY_MAP_DATA	3481797000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11654492
+SHUFFLE	COMPRESS_BYTE_COUNT	11654496
+SHUFFLE	COPY_MAP_DATA	5229319000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12825342
+SHUFFLE	COMPRESS_BYTE_COUNT	12825346
+SHUFFLE	COPY_MAP_DATA	574179000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11970608
+SHUFFLE	COMPRESS_BYTE_COUNT	11970612
+SHUFFLE	COPY_MAP_DATA	2678049000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13570098
+SHUFFLE	COMPRESS_BYTE_COUNT	13570102
+SHUFFLE	COPY_MAP_DATA	1333884000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12686940
+SHUFFLE	COMPRESS_BYTE_COUNT	12686944
+SHUFFLE	COPY_MAP_DATA	426209000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12526122
+SHUFFLE	COMPRESS_BYTE_COUNT	12526126
+SHUFFLE	COPY_MAP_DATA	8436895000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12915504
+SHUFFLE	COMPRESS_BYTE_COUNT	12915508
+SHUFFLE	COPY_MAP_DATA	5766004000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12161960
+SHUFFLE	COMPRESS_BYTE_COUNT	12161964
+SHUFFLE	COPY_MAP_DATA	5899166000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11645777
+SHUFFLE	COMPRESS_BYTE_COUNT	11645781
+SHUFFLE	COPY_MAP_DATA	4447300000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12950898
+SHUFFLE	COMPRESS_BYTE_COUNT	12950902
+SHUFFLE	COPY_MAP_DATA	1269952000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13614366
+SHUFFLE	COMPRESS_BYTE_COUNT	13614370
+SHUFFLE	COPY_MAP_DATA	2009599000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12774727
+SHUFFLE	COMPRESS_BYTE_COUNT	12774731
+SHUFFLE	COPY_MAP_DATA	2343654000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13287398
+SHUFFLE	COMPRESS_BYTE_COUNT	13287402
+SHUFFLE	COPY_MAP_DATA	718950000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	164662520000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	COMBINE	164319858000
+MERGE	WRITE	23939199000
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	4852566000
+SORT	READ_WRITE	4737421000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	65410920
+REDUCE	SETUP	408089000
+REDUCE	SETUP_MEM	65410920
+REDUCE	CLEANUP	40000
+REDUCE	CLEANUP_MEM	107613432
+REDUCE	TOTAL_RUN	108955433000
+REDUCE	READ	20252863000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	54073833000
+REDUCE	WRITE	28029085000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	115400616
+REDUCE	VALUE_BYTE_COUNT	6899374
+REDUCE	REDUCE_MEM	107615480
+REDUCE	WRITE	296614000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	605265390000
@@ -0,0 +1,149 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	8376198
+SHUFFLE	COMPRESS_BYTE_COUNT	8376202
+SHUFFLE	COPY_MAP_DATA	746824000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	6964526
+SHUFFLE	COMPRESS_BYTE_COUNT	6964530
+SHUFFLE	COPY_MAP_DATA	146970000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9824674
+SHUFFLE	COMPRESS_BYTE_COUNT	9824678
+SHUFFLE	COPY_MAP_DATA	335124000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10199022
+SHUFFLE	COMPRESS_BYTE_COUNT	10199026
+SHUFFLE	COPY_MAP_DATA	577543000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10295368
+SHUFFLE	COMPRESS_BYTE_COUNT	10295372
+SHUFFLE	COPY_MAP_DATA	291296000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9242134
+SHUFFLE	COMPRESS_BYTE_COUNT	9242138
+SHUFFLE	COPY_MAP_DATA	143607000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10810352
+SHUFFLE	COMPRESS_BYTE_COUNT	10810356
+SHUFFLE	COPY_MAP_DATA	400527000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10738362
+SHUFFLE	COMPRESS_BYTE_COUNT	10738366
+SHUFFLE	COPY_MAP_DATA	206986000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10348316
+SHUFFLE	COMPRESS_BYTE_COUNT	10348320
+SHUFFLE	COPY_MAP_DATA	484573000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9646694
+SHUFFLE	COMPRESS_BYTE_COUNT	9646698
+SHUFFLE	COPY_MAP_DATA	916906000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11219364
+SHUFFLE	COMPRESS_BYTE_COUNT	11219368
+SHUFFLE	COPY_MAP_DATA	186558000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10367876
+SHUFFLE	COMPRESS_BYTE_COUNT	10367880
+SHUFFLE	COPY_MAP_DATA	2202601000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10648250
+SHUFFLE	COMPRESS_BYTE_COUNT	10648254
+SHUFFLE	COPY_MAP_DATA	144883000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10604594
+SHUFFLE	COMPRESS_BYTE_COUNT	10604598
+SHUFFLE	COPY_MAP_DATA	4676857000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10502220
+SHUFFLE	COMPRESS_BYTE_COUNT	10502224
+SHUFFLE	COPY_MAP_DATA	1167600000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12028552
+SHUFFLE	COMPRESS_BYTE_COUNT	12028556
+SHUFFLE	COPY_MAP_DATA	823554000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12580560
+SHUFFLE	COMPRESS_BYTE_COUNT	12580564
+SHUFFLE	COPY_MAP_DATA	1014933000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11724594
+SHUFFLE	COMPRESS_BYTE_COUNT	11724598
+SHUFFLE	COPY_MAP_DATA	1964477000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12945016
+SHUFFLE	COMPRESS_BYTE_COUNT	12945020
+SHUFFLE	COPY_MAP_DATA	478918000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12068084
+SHUFFLE	COMPRESS_BYTE_COUNT	12068088
+SHUFFLE	COPY_MAP_DATA	2690717000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13693992
+SHUFFLE	COMPRESS_BYTE_COUNT	13693996
+SHUFFLE	COPY_MAP_DATA	295781000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12818250
+SHUFFLE	COMPRESS_BYTE_COUNT	12818254
+SHUFFLE	COPY_MAP_DATA	303524000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12640796
+SHUFFLE	COMPRESS_BYTE_COUNT	12640800
+SHUFFLE	COPY_MAP_DATA	295353000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13050800
+SHUFFLE	COMPRESS_BYTE_COUNT	13050804
+SHUFFLE	COPY_MAP_DATA	6840320000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12274374
+SHUFFLE	COMPRESS_BYTE_COUNT	12274378
+SHUFFLE	COPY_MAP_DATA	5878080000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11738711
+SHUFFLE	COMPRESS_BYTE_COUNT	11738715
+SHUFFLE	COPY_MAP_DATA	435908000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13082768
+SHUFFLE	COMPRESS_BYTE_COUNT	13082772
+SHUFFLE	COPY_MAP_DATA	518884000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13730103
+SHUFFLE	COMPRESS_BYTE_COUNT	13730107
+SHUFFLE	COPY_MAP_DATA	675073000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12900014
+SHUFFLE	COMPRESS_BYTE_COUNT	12900018
+SHUFFLE	COPY_MAP_DATA	2752077000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13421858
+SHUFFLE	COMPRESS_BYTE_COUNT	13421862
+SHUFFLE	COPY_MAP_DATA	744937000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	91488428000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	COMBINE	91202194000
+MERGE	WRITE	13521377000
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	9135428000
+SORT	READ_WRITE	9010649000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	143590184
+REDUCE	SETUP	381000
+REDUCE	SETUP_MEM	143590184
+REDUCE	CLEANUP	34000
+REDUCE	CLEANUP_MEM	94359496
+REDUCE	TOTAL_RUN	103069373000
+REDUCE	READ	19635659000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	49562235000
+REDUCE	WRITE	21099235000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	115486102
+REDUCE	VALUE_BYTE_COUNT	6905261
+REDUCE	REDUCE_MEM	94361544
+REDUCE	WRITE	15896000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	606764376000
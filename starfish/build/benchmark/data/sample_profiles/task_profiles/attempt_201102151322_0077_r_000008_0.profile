@@ -0,0 +1,149 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	8423806
+SHUFFLE	COMPRESS_BYTE_COUNT	8423810
+SHUFFLE	COPY_MAP_DATA	8928542000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	6945154
+SHUFFLE	COMPRESS_BYTE_COUNT	6945158
+SHUFFLE	COPY_MAP_DATA	188786000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9905225
+SHUFFLE	COMPRESS_BYTE_COUNT	9905229
+SHUFFLE	COPY_MAP_DATA	895522000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10246508
+SHUFFLE	COMPRESS_BYTE_COUNT	10246512
+SHUFFLE	COPY_MAP_DATA	1836117000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10329992
+SHUFFLE	COMPRESS_BYTE_COUNT	10329996
+SHUFFLE	COPY_MAP_DATA	2765277000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9278316
+SHUFFLE	COMPRESS_BYTE_COUNT	9278320
+SHUFFLE	COPY_MAP_DATA	10952660000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10762042
+SHUFFLE	COMPRESS_BYTE_COUNT	10762046
+SHUFFLE	COPY_MAP_DATA	616257000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10841216
+SHUFFLE	COMPRESS_BYTE_COUNT	10841220
+SHUFFLE	COPY_MAP_DATA	452371000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10424120
+SHUFFLE	COMPRESS_BYTE_COUNT	10424124
+SHUFFLE	COPY_MAP_DATA	304593000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9700400
+SHUFFLE	COMPRESS_BYTE_COUNT	9700404
+SHUFFLE	COPY_MAP_DATA	7451260000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10391856
+SHUFFLE	COMPRESS_BYTE_COUNT	10391860
+SHUFFLE	COPY_MAP_DATA	6129699000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11218422
+SHUFFLE	COMPRESS_BYTE_COUNT	11218426
+SHUFFLE	COPY_MAP_DATA	149103000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10617258
+SHUFFLE	COMPRESS_BYTE_COUNT	10617262
+SHUFFLE	COPY_MAP_DATA	5567614000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10569683
+SHUFFLE	COMPRESS_BYTE_COUNT	10569687
+SHUFFLE	COPY_MAP_DATA	1221949000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10528680
+SHUFFLE	COMPRESS_BYTE_COUNT	10528684
+SHUFFLE	COPY_MAP_DATA	910176000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12034317
+SHUFFLE	COMPRESS_BYTE_COUNT	12034321
+SHUFFLE	COPY_MAP_DATA	1324291000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12556076
+SHUFFLE	COMPRESS_BYTE_COUNT	12556080
+SHUFFLE	COPY_MAP_DATA	5560449000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11745658
+SHUFFLE	COMPRESS_BYTE_COUNT	11745662
+SHUFFLE	COPY_MAP_DATA	1404729000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12981414
+SHUFFLE	COMPRESS_BYTE_COUNT	12981418
+SHUFFLE	COPY_MAP_DATA	1511303000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12094974
+SHUFFLE	COMPRESS_BYTE_COUNT	12094978
+SHUFFLE	COPY_MAP_DATA	5861875000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13691020
+SHUFFLE	COMPRESS_BYTE_COUNT	13691024
+SHUFFLE	COPY_MAP_DATA	962795000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12854680
+SHUFFLE	COMPRESS_BYTE_COUNT	12854684
+SHUFFLE	COPY_MAP_DATA	285202000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12613328
+SHUFFLE	COMPRESS_BYTE_COUNT	12613332
+SHUFFLE	COPY_MAP_DATA	8504238000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13080196
+SHUFFLE	COMPRESS_BYTE_COUNT	13080200
+SHUFFLE	COPY_MAP_DATA	7827008000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12255966
+SHUFFLE	COMPRESS_BYTE_COUNT	12255970
+SHUFFLE	COPY_MAP_DATA	1553738000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11749472
+SHUFFLE	COMPRESS_BYTE_COUNT	11749476
+SHUFFLE	COPY_MAP_DATA	2661247000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13079838
+SHUFFLE	COMPRESS_BYTE_COUNT	13079842
+SHUFFLE	COPY_MAP_DATA	1874697000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13719991
+SHUFFLE	COMPRESS_BYTE_COUNT	13719995
+SHUFFLE	COPY_MAP_DATA	2367404000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12971708
+SHUFFLE	COMPRESS_BYTE_COUNT	12971712
+SHUFFLE	COPY_MAP_DATA	924558000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13403736
+SHUFFLE	COMPRESS_BYTE_COUNT	13403740
+SHUFFLE	COPY_MAP_DATA	2673255000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	175551548000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	COMBINE	173595971000
+MERGE	WRITE	19843602000
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	4769322000
+SORT	READ_WRITE	4638557000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	51276408
+REDUCE	SETUP	630000
+REDUCE	SETUP_MEM	51276408
+REDUCE	CLEANUP	57000
+REDUCE	CLEANUP_MEM	69435248
+REDUCE	TOTAL_RUN	124334639000
+REDUCE	READ	21536304000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	67430008000
+REDUCE	WRITE	39096108000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	115428282
+REDUCE	VALUE_BYTE_COUNT	6904328
+REDUCE	REDUCE_MEM	69437296
+REDUCE	WRITE	11594000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	596404911000
@@ -0,0 +1,149 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	6917750
+SHUFFLE	COMPRESS_BYTE_COUNT	6917754
+SHUFFLE	COPY_MAP_DATA	1308851000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	8386480
+SHUFFLE	COMPRESS_BYTE_COUNT	8386484
+SHUFFLE	COPY_MAP_DATA	139935000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9801903
+SHUFFLE	COMPRESS_BYTE_COUNT	9801907
+SHUFFLE	COPY_MAP_DATA	1364846000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10220582
+SHUFFLE	COMPRESS_BYTE_COUNT	10220586
+SHUFFLE	COPY_MAP_DATA	1755764000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10243606
+SHUFFLE	COMPRESS_BYTE_COUNT	10243610
+SHUFFLE	COPY_MAP_DATA	179368000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9242336
+SHUFFLE	COMPRESS_BYTE_COUNT	9242340
+SHUFFLE	COPY_MAP_DATA	238870000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10682340
+SHUFFLE	COMPRESS_BYTE_COUNT	10682344
+SHUFFLE	COPY_MAP_DATA	361083000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10747792
+SHUFFLE	COMPRESS_BYTE_COUNT	10747796
+SHUFFLE	COPY_MAP_DATA	139480000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10295370
+SHUFFLE	COMPRESS_BYTE_COUNT	10295374
+SHUFFLE	COPY_MAP_DATA	212605000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9595536
+SHUFFLE	COMPRESS_BYTE_COUNT	9595540
+SHUFFLE	COPY_MAP_DATA	124964000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10280508
+SHUFFLE	COMPRESS_BYTE_COUNT	10280512
+SHUFFLE	COPY_MAP_DATA	294327000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10510060
+SHUFFLE	COMPRESS_BYTE_COUNT	10510064
+SHUFFLE	COPY_MAP_DATA	2933371000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11162698
+SHUFFLE	COMPRESS_BYTE_COUNT	11162702
+SHUFFLE	COPY_MAP_DATA	318335000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10569068
+SHUFFLE	COMPRESS_BYTE_COUNT	10569072
+SHUFFLE	COPY_MAP_DATA	548883000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10430232
+SHUFFLE	COMPRESS_BYTE_COUNT	10430236
+SHUFFLE	COPY_MAP_DATA	121996000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11972114
+SHUFFLE	COMPRESS_BYTE_COUNT	11972118
+SHUFFLE	COPY_MAP_DATA	354031000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12496580
+SHUFFLE	COMPRESS_BYTE_COUNT	12496584
+SHUFFLE	COPY_MAP_DATA	310472000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11629235
+SHUFFLE	COMPRESS_BYTE_COUNT	11629239
+SHUFFLE	COPY_MAP_DATA	2139469000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12882616
+SHUFFLE	COMPRESS_BYTE_COUNT	12882620
+SHUFFLE	COPY_MAP_DATA	531817000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12054308
+SHUFFLE	COMPRESS_BYTE_COUNT	12054312
+SHUFFLE	COPY_MAP_DATA	2567611000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13657550
+SHUFFLE	COMPRESS_BYTE_COUNT	13657554
+SHUFFLE	COPY_MAP_DATA	1474642000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12736786
+SHUFFLE	COMPRESS_BYTE_COUNT	12736790
+SHUFFLE	COPY_MAP_DATA	1270180000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12625897
+SHUFFLE	COMPRESS_BYTE_COUNT	12625901
+SHUFFLE	COPY_MAP_DATA	8727092000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12968210
+SHUFFLE	COMPRESS_BYTE_COUNT	12968214
+SHUFFLE	COPY_MAP_DATA	7823873000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12190834
+SHUFFLE	COMPRESS_BYTE_COUNT	12190838
+SHUFFLE	COPY_MAP_DATA	1967183000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11735826
+SHUFFLE	COMPRESS_BYTE_COUNT	11735830
+SHUFFLE	COPY_MAP_DATA	4354498000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12971800
+SHUFFLE	COMPRESS_BYTE_COUNT	12971804
+SHUFFLE	COPY_MAP_DATA	300861000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13625238
+SHUFFLE	COMPRESS_BYTE_COUNT	13625242
+SHUFFLE	COPY_MAP_DATA	3395031000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12867810
+SHUFFLE	COMPRESS_BYTE_COUNT	12867814
+SHUFFLE	COPY_MAP_DATA	3277666000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13329992
+SHUFFLE	COMPRESS_BYTE_COUNT	13329996
+SHUFFLE	COPY_MAP_DATA	360909000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	91945529000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	COMBINE	91720065000
+MERGE	WRITE	12913392000
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	9523228000
+SORT	READ_WRITE	9383972000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	142743344
+REDUCE	SETUP	328000
+REDUCE	SETUP_MEM	142743344
+REDUCE	CLEANUP	33000
+REDUCE	CLEANUP_MEM	129515312
+REDUCE	TOTAL_RUN	102810119989
+REDUCE	READ	19312036000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	49815683989
+REDUCE	WRITE	21395469000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	115349064
+REDUCE	VALUE_BYTE_COUNT	6897442
+REDUCE	REDUCE_MEM	129517360
+REDUCE	WRITE	1462052000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	612253210989
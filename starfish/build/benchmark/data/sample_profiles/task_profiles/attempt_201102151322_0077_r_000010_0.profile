@@ -0,0 +1,149 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	8346762
+SHUFFLE	COMPRESS_BYTE_COUNT	8346766
+SHUFFLE	COPY_MAP_DATA	2636673000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	6918949
+SHUFFLE	COMPRESS_BYTE_COUNT	6918953
+SHUFFLE	COPY_MAP_DATA	5777561000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9782545
+SHUFFLE	COMPRESS_BYTE_COUNT	9782549
+SHUFFLE	COPY_MAP_DATA	595522000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10150702
+SHUFFLE	COMPRESS_BYTE_COUNT	10150706
+SHUFFLE	COPY_MAP_DATA	176139000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10268809
+SHUFFLE	COMPRESS_BYTE_COUNT	10268813
+SHUFFLE	COPY_MAP_DATA	150154000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9214456
+SHUFFLE	COMPRESS_BYTE_COUNT	9214460
+SHUFFLE	COPY_MAP_DATA	150096000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10664092
+SHUFFLE	COMPRESS_BYTE_COUNT	10664096
+SHUFFLE	COPY_MAP_DATA	204275000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10740676
+SHUFFLE	COMPRESS_BYTE_COUNT	10740680
+SHUFFLE	COPY_MAP_DATA	197169000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10305788
+SHUFFLE	COMPRESS_BYTE_COUNT	10305792
+SHUFFLE	COPY_MAP_DATA	92369000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9601970
+SHUFFLE	COMPRESS_BYTE_COUNT	9601974
+SHUFFLE	COPY_MAP_DATA	230959000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10282516
+SHUFFLE	COMPRESS_BYTE_COUNT	10282520
+SHUFFLE	COPY_MAP_DATA	246646000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10480332
+SHUFFLE	COMPRESS_BYTE_COUNT	10480336
+SHUFFLE	COPY_MAP_DATA	4602021000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11143644
+SHUFFLE	COMPRESS_BYTE_COUNT	11143648
+SHUFFLE	COPY_MAP_DATA	131015000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10552189
+SHUFFLE	COMPRESS_BYTE_COUNT	10552193
+SHUFFLE	COPY_MAP_DATA	193570000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10440198
+SHUFFLE	COMPRESS_BYTE_COUNT	10440202
+SHUFFLE	COPY_MAP_DATA	233261000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12452022
+SHUFFLE	COMPRESS_BYTE_COUNT	12452026
+SHUFFLE	COPY_MAP_DATA	734979000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11950752
+SHUFFLE	COMPRESS_BYTE_COUNT	11950756
+SHUFFLE	COPY_MAP_DATA	499855000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11651716
+SHUFFLE	COMPRESS_BYTE_COUNT	11651720
+SHUFFLE	COPY_MAP_DATA	2946647000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12044078
+SHUFFLE	COMPRESS_BYTE_COUNT	12044082
+SHUFFLE	COPY_MAP_DATA	3716011000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12913314
+SHUFFLE	COMPRESS_BYTE_COUNT	12913318
+SHUFFLE	COPY_MAP_DATA	272216000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13578488
+SHUFFLE	COMPRESS_BYTE_COUNT	13578492
+SHUFFLE	COPY_MAP_DATA	1103554000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12692386
+SHUFFLE	COMPRESS_BYTE_COUNT	12692390
+SHUFFLE	COPY_MAP_DATA	231728000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12526514
+SHUFFLE	COMPRESS_BYTE_COUNT	12526518
+SHUFFLE	COPY_MAP_DATA	6293243000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12948662
+SHUFFLE	COMPRESS_BYTE_COUNT	12948666
+SHUFFLE	COPY_MAP_DATA	7238743000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12190486
+SHUFFLE	COMPRESS_BYTE_COUNT	12190490
+SHUFFLE	COPY_MAP_DATA	5923129000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11656188
+SHUFFLE	COMPRESS_BYTE_COUNT	11656192
+SHUFFLE	COPY_MAP_DATA	3631494000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12987832
+SHUFFLE	COMPRESS_BYTE_COUNT	12987836
+SHUFFLE	COPY_MAP_DATA	1285520000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13588740
+SHUFFLE	COMPRESS_BYTE_COUNT	13588744
+SHUFFLE	COPY_MAP_DATA	3492056000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12854640
+SHUFFLE	COMPRESS_BYTE_COUNT	12854644
+SHUFFLE	COPY_MAP_DATA	2573773000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13341732
+SHUFFLE	COMPRESS_BYTE_COUNT	13341736
+SHUFFLE	COPY_MAP_DATA	418754000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	106433278000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	COMBINE	105929799000
+MERGE	WRITE	14991754000
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	9796350000
+SORT	READ_WRITE	9626309000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	152101944
+REDUCE	SETUP	324000
+REDUCE	SETUP_MEM	152101944
+REDUCE	CLEANUP	39000
+REDUCE	CLEANUP_MEM	87008120
+REDUCE	TOTAL_RUN	110895030000
+REDUCE	READ	20374913000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	56499062000
+REDUCE	WRITE	28385973000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	115321052
+REDUCE	VALUE_BYTE_COUNT	6894541
+REDUCE	REDUCE_MEM	87010168
+REDUCE	WRITE	351777000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	613071257000
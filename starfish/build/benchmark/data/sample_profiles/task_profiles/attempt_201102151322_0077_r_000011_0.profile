@@ -0,0 +1,149 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	6875884
+SHUFFLE	COMPRESS_BYTE_COUNT	6875888
+SHUFFLE	COPY_MAP_DATA	489994000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	8386602
+SHUFFLE	COMPRESS_BYTE_COUNT	8386606
+SHUFFLE	COPY_MAP_DATA	2559258000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9793689
+SHUFFLE	COMPRESS_BYTE_COUNT	9793693
+SHUFFLE	COPY_MAP_DATA	197904000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10136408
+SHUFFLE	COMPRESS_BYTE_COUNT	10136412
+SHUFFLE	COPY_MAP_DATA	1012004000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10255852
+SHUFFLE	COMPRESS_BYTE_COUNT	10255856
+SHUFFLE	COPY_MAP_DATA	188456000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9209236
+SHUFFLE	COMPRESS_BYTE_COUNT	9209240
+SHUFFLE	COPY_MAP_DATA	210438000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10670813
+SHUFFLE	COMPRESS_BYTE_COUNT	10670817
+SHUFFLE	COPY_MAP_DATA	683601000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10699334
+SHUFFLE	COMPRESS_BYTE_COUNT	10699338
+SHUFFLE	COPY_MAP_DATA	607499000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10313844
+SHUFFLE	COMPRESS_BYTE_COUNT	10313848
+SHUFFLE	COPY_MAP_DATA	222177000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9584932
+SHUFFLE	COMPRESS_BYTE_COUNT	9584936
+SHUFFLE	COPY_MAP_DATA	76543000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10317212
+SHUFFLE	COMPRESS_BYTE_COUNT	10317216
+SHUFFLE	COPY_MAP_DATA	520045000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11197806
+SHUFFLE	COMPRESS_BYTE_COUNT	11197810
+SHUFFLE	COPY_MAP_DATA	353993000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10503372
+SHUFFLE	COMPRESS_BYTE_COUNT	10503376
+SHUFFLE	COPY_MAP_DATA	4377139294
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10609567
+SHUFFLE	COMPRESS_BYTE_COUNT	10609571
+SHUFFLE	COPY_MAP_DATA	188121000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10441178
+SHUFFLE	COMPRESS_BYTE_COUNT	10441182
+SHUFFLE	COPY_MAP_DATA	306277000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12435108
+SHUFFLE	COMPRESS_BYTE_COUNT	12435112
+SHUFFLE	COPY_MAP_DATA	181077000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11950914
+SHUFFLE	COMPRESS_BYTE_COUNT	11950918
+SHUFFLE	COPY_MAP_DATA	351913000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11659446
+SHUFFLE	COMPRESS_BYTE_COUNT	11659450
+SHUFFLE	COPY_MAP_DATA	2243151000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12052546
+SHUFFLE	COMPRESS_BYTE_COUNT	12052550
+SHUFFLE	COPY_MAP_DATA	457963000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12879304
+SHUFFLE	COMPRESS_BYTE_COUNT	12879308
+SHUFFLE	COPY_MAP_DATA	800577000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13645691
+SHUFFLE	COMPRESS_BYTE_COUNT	13645695
+SHUFFLE	COPY_MAP_DATA	1132199000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12713272
+SHUFFLE	COMPRESS_BYTE_COUNT	12713276
+SHUFFLE	COPY_MAP_DATA	146783000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12556687
+SHUFFLE	COMPRESS_BYTE_COUNT	12556691
+SHUFFLE	COPY_MAP_DATA	8639547000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12962154
+SHUFFLE	COMPRESS_BYTE_COUNT	12962158
+SHUFFLE	COPY_MAP_DATA	7678446000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12222313
+SHUFFLE	COMPRESS_BYTE_COUNT	12222317
+SHUFFLE	COPY_MAP_DATA	4880084000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11642924
+SHUFFLE	COMPRESS_BYTE_COUNT	11642928
+SHUFFLE	COPY_MAP_DATA	3570947000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13052246
+SHUFFLE	COMPRESS_BYTE_COUNT	13052250
+SHUFFLE	COPY_MAP_DATA	2215795000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13685782
+SHUFFLE	COMPRESS_BYTE_COUNT	13685786
+SHUFFLE	COPY_MAP_DATA	1362000000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12844428
+SHUFFLE	COMPRESS_BYTE_COUNT	12844432
+SHUFFLE	COPY_MAP_DATA	2607003000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13365594
+SHUFFLE	COMPRESS_BYTE_COUNT	13365598
+SHUFFLE	COPY_MAP_DATA	2533627000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	114603592910
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	COMBINE	114410054910
+MERGE	WRITE	15230938000
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	4988545000
+SORT	READ_WRITE	4891863000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	107024632
+REDUCE	SETUP	12114000
+REDUCE	SETUP_MEM	107024632
+REDUCE	CLEANUP	37000
+REDUCE	CLEANUP_MEM	99253872
+REDUCE	TOTAL_RUN	126829805285
+REDUCE	READ	19602541000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	57681408000
+REDUCE	WRITE	26065992000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	115430574
+REDUCE	VALUE_BYTE_COUNT	6899729
+REDUCE	REDUCE_MEM	99255920
+REDUCE	WRITE	9847000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	625815467578
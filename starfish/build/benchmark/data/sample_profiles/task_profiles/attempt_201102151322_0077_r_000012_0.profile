@@ -0,0 +1,149 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	8348466
+SHUFFLE	COMPRESS_BYTE_COUNT	8348470
+SHUFFLE	COPY_MAP_DATA	8956191000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	6884849
+SHUFFLE	COMPRESS_BYTE_COUNT	6884853
+SHUFFLE	COPY_MAP_DATA	140192000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10173818
+SHUFFLE	COMPRESS_BYTE_COUNT	10173822
+SHUFFLE	COPY_MAP_DATA	3059817000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9808260
+SHUFFLE	COMPRESS_BYTE_COUNT	9808264
+SHUFFLE	COPY_MAP_DATA	349973000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10225426
+SHUFFLE	COMPRESS_BYTE_COUNT	10225430
+SHUFFLE	COPY_MAP_DATA	973981000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9194296
+SHUFFLE	COMPRESS_BYTE_COUNT	9194300
+SHUFFLE	COPY_MAP_DATA	275846000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10731910
+SHUFFLE	COMPRESS_BYTE_COUNT	10731914
+SHUFFLE	COPY_MAP_DATA	462923000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10619374
+SHUFFLE	COMPRESS_BYTE_COUNT	10619378
+SHUFFLE	COPY_MAP_DATA	207537000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10303148
+SHUFFLE	COMPRESS_BYTE_COUNT	10303152
+SHUFFLE	COPY_MAP_DATA	119763000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9643265
+SHUFFLE	COMPRESS_BYTE_COUNT	9643269
+SHUFFLE	COPY_MAP_DATA	2598475000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10280696
+SHUFFLE	COMPRESS_BYTE_COUNT	10280700
+SHUFFLE	COPY_MAP_DATA	992728000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11176106
+SHUFFLE	COMPRESS_BYTE_COUNT	11176110
+SHUFFLE	COPY_MAP_DATA	240475000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10539160
+SHUFFLE	COMPRESS_BYTE_COUNT	10539164
+SHUFFLE	COPY_MAP_DATA	530026000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10488828
+SHUFFLE	COMPRESS_BYTE_COUNT	10488832
+SHUFFLE	COPY_MAP_DATA	6060222000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10414330
+SHUFFLE	COMPRESS_BYTE_COUNT	10414334
+SHUFFLE	COPY_MAP_DATA	1766185000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11973008
+SHUFFLE	COMPRESS_BYTE_COUNT	11973012
+SHUFFLE	COPY_MAP_DATA	1239176000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12466470
+SHUFFLE	COMPRESS_BYTE_COUNT	12466474
+SHUFFLE	COPY_MAP_DATA	1360587000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11655079
+SHUFFLE	COMPRESS_BYTE_COUNT	11655083
+SHUFFLE	COPY_MAP_DATA	499686000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12855258
+SHUFFLE	COMPRESS_BYTE_COUNT	12855262
+SHUFFLE	COPY_MAP_DATA	193815000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12020001
+SHUFFLE	COMPRESS_BYTE_COUNT	12020005
+SHUFFLE	COPY_MAP_DATA	3009922000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13655684
+SHUFFLE	COMPRESS_BYTE_COUNT	13655688
+SHUFFLE	COPY_MAP_DATA	1713343000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12722736
+SHUFFLE	COMPRESS_BYTE_COUNT	12722740
+SHUFFLE	COPY_MAP_DATA	195286000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12541806
+SHUFFLE	COMPRESS_BYTE_COUNT	12541810
+SHUFFLE	COPY_MAP_DATA	8705059000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12966588
+SHUFFLE	COMPRESS_BYTE_COUNT	12966592
+SHUFFLE	COPY_MAP_DATA	7703540000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12184470
+SHUFFLE	COMPRESS_BYTE_COUNT	12184474
+SHUFFLE	COPY_MAP_DATA	4803384000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11640949
+SHUFFLE	COMPRESS_BYTE_COUNT	11640953
+SHUFFLE	COPY_MAP_DATA	444455000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12990053
+SHUFFLE	COMPRESS_BYTE_COUNT	12990057
+SHUFFLE	COPY_MAP_DATA	381165000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13613300
+SHUFFLE	COMPRESS_BYTE_COUNT	13613304
+SHUFFLE	COPY_MAP_DATA	481272000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12827704
+SHUFFLE	COMPRESS_BYTE_COUNT	12827708
+SHUFFLE	COPY_MAP_DATA	3408260000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13352904
+SHUFFLE	COMPRESS_BYTE_COUNT	13352908
+SHUFFLE	COPY_MAP_DATA	2397486000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	140470438000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	COMBINE	140276167000
+MERGE	WRITE	24416106000
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	4854566000
+SORT	READ_WRITE	4760122000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	127802024
+REDUCE	SETUP	363000
+REDUCE	SETUP_MEM	127802024
+REDUCE	CLEANUP	32000
+REDUCE	CLEANUP_MEM	117219248
+REDUCE	TOTAL_RUN	111679504000
+REDUCE	READ	23711895000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	51620239000
+REDUCE	WRITE	23153358000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	115367256
+REDUCE	VALUE_BYTE_COUNT	6899019
+REDUCE	REDUCE_MEM	117219248
+REDUCE	WRITE	41330000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	606464538000
@@ -0,0 +1,149 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	6947554
+SHUFFLE	COMPRESS_BYTE_COUNT	6947558
+SHUFFLE	COPY_MAP_DATA	1014144000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	8372812
+SHUFFLE	COMPRESS_BYTE_COUNT	8372816
+SHUFFLE	COPY_MAP_DATA	376652000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9837465
+SHUFFLE	COMPRESS_BYTE_COUNT	9837469
+SHUFFLE	COPY_MAP_DATA	436708000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10172314
+SHUFFLE	COMPRESS_BYTE_COUNT	10172318
+SHUFFLE	COPY_MAP_DATA	209014000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10269980
+SHUFFLE	COMPRESS_BYTE_COUNT	10269984
+SHUFFLE	COPY_MAP_DATA	203362000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9251430
+SHUFFLE	COMPRESS_BYTE_COUNT	9251434
+SHUFFLE	COPY_MAP_DATA	246638000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10755692
+SHUFFLE	COMPRESS_BYTE_COUNT	10755696
+SHUFFLE	COPY_MAP_DATA	273302000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10712182
+SHUFFLE	COMPRESS_BYTE_COUNT	10712186
+SHUFFLE	COPY_MAP_DATA	120285000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10342964
+SHUFFLE	COMPRESS_BYTE_COUNT	10342968
+SHUFFLE	COPY_MAP_DATA	190466000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9617324
+SHUFFLE	COMPRESS_BYTE_COUNT	9617328
+SHUFFLE	COPY_MAP_DATA	146722000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10345272
+SHUFFLE	COMPRESS_BYTE_COUNT	10345276
+SHUFFLE	COPY_MAP_DATA	125980000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11231974
+SHUFFLE	COMPRESS_BYTE_COUNT	11231978
+SHUFFLE	COPY_MAP_DATA	515137000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10588206
+SHUFFLE	COMPRESS_BYTE_COUNT	10588210
+SHUFFLE	COPY_MAP_DATA	353841000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10553635
+SHUFFLE	COMPRESS_BYTE_COUNT	10553639
+SHUFFLE	COPY_MAP_DATA	3829469000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10489180
+SHUFFLE	COMPRESS_BYTE_COUNT	10489184
+SHUFFLE	COPY_MAP_DATA	172587000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11970966
+SHUFFLE	COMPRESS_BYTE_COUNT	11970970
+SHUFFLE	COPY_MAP_DATA	454493000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12483860
+SHUFFLE	COMPRESS_BYTE_COUNT	12483864
+SHUFFLE	COPY_MAP_DATA	135372000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11688380
+SHUFFLE	COMPRESS_BYTE_COUNT	11688384
+SHUFFLE	COPY_MAP_DATA	810525000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12060418
+SHUFFLE	COMPRESS_BYTE_COUNT	12060422
+SHUFFLE	COPY_MAP_DATA	389781000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12912722
+SHUFFLE	COMPRESS_BYTE_COUNT	12912726
+SHUFFLE	COPY_MAP_DATA	884532000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13659662
+SHUFFLE	COMPRESS_BYTE_COUNT	13659666
+SHUFFLE	COPY_MAP_DATA	1483507000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12735650
+SHUFFLE	COMPRESS_BYTE_COUNT	12735654
+SHUFFLE	COPY_MAP_DATA	241478945
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12619048
+SHUFFLE	COMPRESS_BYTE_COUNT	12619052
+SHUFFLE	COPY_MAP_DATA	8146638000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12972401
+SHUFFLE	COMPRESS_BYTE_COUNT	12972405
+SHUFFLE	COPY_MAP_DATA	588829000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12219770
+SHUFFLE	COMPRESS_BYTE_COUNT	12219774
+SHUFFLE	COPY_MAP_DATA	5840743000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11655590
+SHUFFLE	COMPRESS_BYTE_COUNT	11655594
+SHUFFLE	COPY_MAP_DATA	4448078000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13044606
+SHUFFLE	COMPRESS_BYTE_COUNT	13044610
+SHUFFLE	COPY_MAP_DATA	279104000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13648216
+SHUFFLE	COMPRESS_BYTE_COUNT	13648220
+SHUFFLE	COPY_MAP_DATA	3040727000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12888750
+SHUFFLE	COMPRESS_BYTE_COUNT	12888754
+SHUFFLE	COPY_MAP_DATA	943962000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13366869
+SHUFFLE	COMPRESS_BYTE_COUNT	13366873
+SHUFFLE	COPY_MAP_DATA	1839939000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	107974871299
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	COMBINE	107709123299
+MERGE	WRITE	15097026000
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	4628562000
+SORT	READ_WRITE	4489125000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	72838688
+REDUCE	SETUP	21444000
+REDUCE	SETUP_MEM	72838688
+REDUCE	CLEANUP	46000
+REDUCE	CLEANUP_MEM	84519680
+REDUCE	TOTAL_RUN	121924633154
+REDUCE	READ	17599079000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	54845069425
+REDUCE	WRITE	23924042000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	115395372
+REDUCE	VALUE_BYTE_COUNT	6898831
+REDUCE	REDUCE_MEM	84519680
+REDUCE	WRITE	11870000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	623582890622
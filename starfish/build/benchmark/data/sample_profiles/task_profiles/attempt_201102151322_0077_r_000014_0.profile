@@ -0,0 +1,149 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	8349094
+SHUFFLE	COMPRESS_BYTE_COUNT	8349098
+SHUFFLE	COPY_MAP_DATA	607236000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	6909250
+SHUFFLE	COMPRESS_BYTE_COUNT	6909254
+SHUFFLE	COPY_MAP_DATA	218120000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9786886
+SHUFFLE	COMPRESS_BYTE_COUNT	9786890
+SHUFFLE	COPY_MAP_DATA	2472861000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10187888
+SHUFFLE	COMPRESS_BYTE_COUNT	10187892
+SHUFFLE	COPY_MAP_DATA	646527000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9205066
+SHUFFLE	COMPRESS_BYTE_COUNT	9205070
+SHUFFLE	COPY_MAP_DATA	163930000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10234113
+SHUFFLE	COMPRESS_BYTE_COUNT	10234117
+SHUFFLE	COPY_MAP_DATA	485671000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10670244
+SHUFFLE	COMPRESS_BYTE_COUNT	10670248
+SHUFFLE	COPY_MAP_DATA	519743000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10670898
+SHUFFLE	COMPRESS_BYTE_COUNT	10670902
+SHUFFLE	COPY_MAP_DATA	554862000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10305056
+SHUFFLE	COMPRESS_BYTE_COUNT	10305060
+SHUFFLE	COPY_MAP_DATA	150049000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9575168
+SHUFFLE	COMPRESS_BYTE_COUNT	9575172
+SHUFFLE	COPY_MAP_DATA	1085344000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11161128
+SHUFFLE	COMPRESS_BYTE_COUNT	11161132
+SHUFFLE	COPY_MAP_DATA	148131000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10316870
+SHUFFLE	COMPRESS_BYTE_COUNT	10316874
+SHUFFLE	COPY_MAP_DATA	161034000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10461232
+SHUFFLE	COMPRESS_BYTE_COUNT	10461236
+SHUFFLE	COPY_MAP_DATA	164722000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10544926
+SHUFFLE	COMPRESS_BYTE_COUNT	10544930
+SHUFFLE	COPY_MAP_DATA	178793000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10467054
+SHUFFLE	COMPRESS_BYTE_COUNT	10467058
+SHUFFLE	COPY_MAP_DATA	263363000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11972858
+SHUFFLE	COMPRESS_BYTE_COUNT	11972862
+SHUFFLE	COPY_MAP_DATA	373359000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12481359
+SHUFFLE	COMPRESS_BYTE_COUNT	12481363
+SHUFFLE	COPY_MAP_DATA	301525000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11664336
+SHUFFLE	COMPRESS_BYTE_COUNT	11664340
+SHUFFLE	COPY_MAP_DATA	198425000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12047262
+SHUFFLE	COMPRESS_BYTE_COUNT	12047266
+SHUFFLE	COPY_MAP_DATA	2796533000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12921822
+SHUFFLE	COMPRESS_BYTE_COUNT	12921826
+SHUFFLE	COPY_MAP_DATA	206036000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13614325
+SHUFFLE	COMPRESS_BYTE_COUNT	13614329
+SHUFFLE	COPY_MAP_DATA	505515000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12722066
+SHUFFLE	COMPRESS_BYTE_COUNT	12722070
+SHUFFLE	COPY_MAP_DATA	175070000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12526940
+SHUFFLE	COMPRESS_BYTE_COUNT	12526944
+SHUFFLE	COPY_MAP_DATA	1822466000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12972780
+SHUFFLE	COMPRESS_BYTE_COUNT	12972784
+SHUFFLE	COPY_MAP_DATA	240087000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12160916
+SHUFFLE	COMPRESS_BYTE_COUNT	12160920
+SHUFFLE	COPY_MAP_DATA	5526320000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11685100
+SHUFFLE	COMPRESS_BYTE_COUNT	11685104
+SHUFFLE	COPY_MAP_DATA	3625297000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13014446
+SHUFFLE	COMPRESS_BYTE_COUNT	13014450
+SHUFFLE	COPY_MAP_DATA	2565581000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13650924
+SHUFFLE	COMPRESS_BYTE_COUNT	13650928
+SHUFFLE	COPY_MAP_DATA	1335401000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12856234
+SHUFFLE	COMPRESS_BYTE_COUNT	12856238
+SHUFFLE	COPY_MAP_DATA	2241765000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13340793
+SHUFFLE	COMPRESS_BYTE_COUNT	13340797
+SHUFFLE	COPY_MAP_DATA	385311000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	95145010000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	COMBINE	94927538000
+MERGE	WRITE	13590627000
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	4634895000
+SORT	READ_WRITE	4542146000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	244296400
+REDUCE	SETUP	4723000
+REDUCE	SETUP_MEM	244296400
+REDUCE	CLEANUP	48000
+REDUCE	CLEANUP_MEM	244879824
+REDUCE	TOTAL_RUN	117950337081
+REDUCE	READ	20732787000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	59053968081
+REDUCE	WRITE	31184794081
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	115465844
+REDUCE	VALUE_BYTE_COUNT	6902204
+REDUCE	REDUCE_MEM	244881872
+REDUCE	WRITE	444351000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	617680617081
@@ -0,0 +1,149 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	8335214
+SHUFFLE	COMPRESS_BYTE_COUNT	8335218
+SHUFFLE	COPY_MAP_DATA	109803000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	6940128
+SHUFFLE	COMPRESS_BYTE_COUNT	6940132
+SHUFFLE	COPY_MAP_DATA	175063000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9777914
+SHUFFLE	COMPRESS_BYTE_COUNT	9777918
+SHUFFLE	COPY_MAP_DATA	356882000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10175842
+SHUFFLE	COMPRESS_BYTE_COUNT	10175846
+SHUFFLE	COPY_MAP_DATA	299245000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10261866
+SHUFFLE	COMPRESS_BYTE_COUNT	10261870
+SHUFFLE	COPY_MAP_DATA	275653000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9199832
+SHUFFLE	COMPRESS_BYTE_COUNT	9199836
+SHUFFLE	COPY_MAP_DATA	204133000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10755842
+SHUFFLE	COMPRESS_BYTE_COUNT	10755846
+SHUFFLE	COPY_MAP_DATA	335417000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10666948
+SHUFFLE	COMPRESS_BYTE_COUNT	10666952
+SHUFFLE	COPY_MAP_DATA	501820000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10317428
+SHUFFLE	COMPRESS_BYTE_COUNT	10317432
+SHUFFLE	COPY_MAP_DATA	123221000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9587411
+SHUFFLE	COMPRESS_BYTE_COUNT	9587415
+SHUFFLE	COPY_MAP_DATA	369153000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10312109
+SHUFFLE	COMPRESS_BYTE_COUNT	10312113
+SHUFFLE	COPY_MAP_DATA	177891000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10585557
+SHUFFLE	COMPRESS_BYTE_COUNT	10585561
+SHUFFLE	COPY_MAP_DATA	1154794000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10540880
+SHUFFLE	COMPRESS_BYTE_COUNT	10540884
+SHUFFLE	COPY_MAP_DATA	159055000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11159076
+SHUFFLE	COMPRESS_BYTE_COUNT	11159080
+SHUFFLE	COPY_MAP_DATA	153670000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10428695
+SHUFFLE	COMPRESS_BYTE_COUNT	10428699
+SHUFFLE	COPY_MAP_DATA	170773000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12479040
+SHUFFLE	COMPRESS_BYTE_COUNT	12479044
+SHUFFLE	COPY_MAP_DATA	154208000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12024472
+SHUFFLE	COMPRESS_BYTE_COUNT	12024476
+SHUFFLE	COPY_MAP_DATA	681579000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11640152
+SHUFFLE	COMPRESS_BYTE_COUNT	11640156
+SHUFFLE	COPY_MAP_DATA	2706384000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12857146
+SHUFFLE	COMPRESS_BYTE_COUNT	12857150
+SHUFFLE	COPY_MAP_DATA	150547000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12019632
+SHUFFLE	COMPRESS_BYTE_COUNT	12019636
+SHUFFLE	COPY_MAP_DATA	2928182000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13665846
+SHUFFLE	COMPRESS_BYTE_COUNT	13665850
+SHUFFLE	COPY_MAP_DATA	214012000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12697520
+SHUFFLE	COMPRESS_BYTE_COUNT	12697524
+SHUFFLE	COPY_MAP_DATA	266506000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12557022
+SHUFFLE	COMPRESS_BYTE_COUNT	12557026
+SHUFFLE	COPY_MAP_DATA	252312000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12983644
+SHUFFLE	COMPRESS_BYTE_COUNT	12983648
+SHUFFLE	COPY_MAP_DATA	6248978000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12185032
+SHUFFLE	COMPRESS_BYTE_COUNT	12185036
+SHUFFLE	COPY_MAP_DATA	6391400000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11669414
+SHUFFLE	COMPRESS_BYTE_COUNT	11669418
+SHUFFLE	COPY_MAP_DATA	4198670000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12969382
+SHUFFLE	COMPRESS_BYTE_COUNT	12969386
+SHUFFLE	COPY_MAP_DATA	2592091000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13591818
+SHUFFLE	COMPRESS_BYTE_COUNT	13591822
+SHUFFLE	COPY_MAP_DATA	897772000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12847981
+SHUFFLE	COMPRESS_BYTE_COUNT	12847985
+SHUFFLE	COPY_MAP_DATA	2395639000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13318989
+SHUFFLE	COMPRESS_BYTE_COUNT	13318993
+SHUFFLE	COPY_MAP_DATA	2574342000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	101003753000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	COMBINE	100772439000
+MERGE	WRITE	17417785000
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	7166873000
+SORT	READ_WRITE	7012111000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	107774192
+REDUCE	SETUP	484000
+REDUCE	SETUP_MEM	107774192
+REDUCE	CLEANUP	61000
+REDUCE	CLEANUP_MEM	91890928
+REDUCE	TOTAL_RUN	113727111000
+REDUCE	READ	22387329000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	53498617000
+REDUCE	WRITE	23850316000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	115453840
+REDUCE	VALUE_BYTE_COUNT	6902258
+REDUCE	REDUCE_MEM	91892976
+REDUCE	WRITE	56026000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	616247120000
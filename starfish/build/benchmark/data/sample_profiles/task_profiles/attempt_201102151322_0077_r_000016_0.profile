@@ -0,0 +1,149 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	6934418
+SHUFFLE	COMPRESS_BYTE_COUNT	6934422
+SHUFFLE	COPY_MAP_DATA	1098960000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	8370234
+SHUFFLE	COMPRESS_BYTE_COUNT	8370238
+SHUFFLE	COPY_MAP_DATA	341926000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9774914
+SHUFFLE	COMPRESS_BYTE_COUNT	9774918
+SHUFFLE	COPY_MAP_DATA	2368123000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10206672
+SHUFFLE	COMPRESS_BYTE_COUNT	10206676
+SHUFFLE	COPY_MAP_DATA	1033636000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10257888
+SHUFFLE	COMPRESS_BYTE_COUNT	10257892
+SHUFFLE	COPY_MAP_DATA	912755000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9209641
+SHUFFLE	COMPRESS_BYTE_COUNT	9209645
+SHUFFLE	COPY_MAP_DATA	108596000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10310546
+SHUFFLE	COMPRESS_BYTE_COUNT	10310550
+SHUFFLE	COPY_MAP_DATA	1201255000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10680456
+SHUFFLE	COMPRESS_BYTE_COUNT	10680460
+SHUFFLE	COPY_MAP_DATA	691864000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10703108
+SHUFFLE	COMPRESS_BYTE_COUNT	10703112
+SHUFFLE	COPY_MAP_DATA	401359000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9627545
+SHUFFLE	COMPRESS_BYTE_COUNT	9627549
+SHUFFLE	COPY_MAP_DATA	419315000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10273076
+SHUFFLE	COMPRESS_BYTE_COUNT	10273080
+SHUFFLE	COPY_MAP_DATA	510707000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10515634
+SHUFFLE	COMPRESS_BYTE_COUNT	10515638
+SHUFFLE	COPY_MAP_DATA	252484000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11161508
+SHUFFLE	COMPRESS_BYTE_COUNT	11161512
+SHUFFLE	COPY_MAP_DATA	1351329000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10584227
+SHUFFLE	COMPRESS_BYTE_COUNT	10584231
+SHUFFLE	COPY_MAP_DATA	114275000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10434664
+SHUFFLE	COMPRESS_BYTE_COUNT	10434668
+SHUFFLE	COPY_MAP_DATA	831396000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11967642
+SHUFFLE	COMPRESS_BYTE_COUNT	11967646
+SHUFFLE	COPY_MAP_DATA	1069321000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12458485
+SHUFFLE	COMPRESS_BYTE_COUNT	12458489
+SHUFFLE	COPY_MAP_DATA	294262000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11639824
+SHUFFLE	COMPRESS_BYTE_COUNT	11639828
+SHUFFLE	COPY_MAP_DATA	423709000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12900026
+SHUFFLE	COMPRESS_BYTE_COUNT	12900030
+SHUFFLE	COPY_MAP_DATA	496920000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12015778
+SHUFFLE	COMPRESS_BYTE_COUNT	12015782
+SHUFFLE	COPY_MAP_DATA	478711000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13649794
+SHUFFLE	COMPRESS_BYTE_COUNT	13649798
+SHUFFLE	COPY_MAP_DATA	88731260101
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12736490
+SHUFFLE	COMPRESS_BYTE_COUNT	12736494
+SHUFFLE	COPY_MAP_DATA	470777000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12551343
+SHUFFLE	COMPRESS_BYTE_COUNT	12551347
+SHUFFLE	COPY_MAP_DATA	667612000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12188494
+SHUFFLE	COMPRESS_BYTE_COUNT	12188498
+SHUFFLE	COPY_MAP_DATA	5086571000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12975384
+SHUFFLE	COMPRESS_BYTE_COUNT	12975388
+SHUFFLE	COPY_MAP_DATA	226790000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11695680
+SHUFFLE	COMPRESS_BYTE_COUNT	11695684
+SHUFFLE	COPY_MAP_DATA	3017830000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13012856
+SHUFFLE	COMPRESS_BYTE_COUNT	13012860
+SHUFFLE	COPY_MAP_DATA	2287985000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13637504
+SHUFFLE	COMPRESS_BYTE_COUNT	13637508
+SHUFFLE	COPY_MAP_DATA	4006330101
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12857152
+SHUFFLE	COMPRESS_BYTE_COUNT	12857156
+SHUFFLE	COPY_MAP_DATA	1334478000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13366317
+SHUFFLE	COMPRESS_BYTE_COUNT	13366321
+SHUFFLE	COPY_MAP_DATA	1858719000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	289295859648
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	COMBINE	285592124648
+MERGE	WRITE	36593621101
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	21526545101
+SORT	READ_WRITE	21267321101
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	186528024
+REDUCE	SETUP	408000
+REDUCE	SETUP_MEM	186528024
+REDUCE	CLEANUP	42000
+REDUCE	CLEANUP_MEM	145775056
+REDUCE	TOTAL_RUN	139606274202
+REDUCE	READ	21408969253
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	68402142949
+REDUCE	WRITE	29151575000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	115453110
+REDUCE	VALUE_BYTE_COUNT	6902457
+REDUCE	REDUCE_MEM	145777104
+REDUCE	WRITE	9322000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	655227190254
@@ -0,0 +1,149 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	8366498
+SHUFFLE	COMPRESS_BYTE_COUNT	8366502
+SHUFFLE	COPY_MAP_DATA	4347914000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	6916506
+SHUFFLE	COMPRESS_BYTE_COUNT	6916510
+SHUFFLE	COPY_MAP_DATA	1492533000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9757732
+SHUFFLE	COMPRESS_BYTE_COUNT	9757736
+SHUFFLE	COPY_MAP_DATA	412811000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10168688
+SHUFFLE	COMPRESS_BYTE_COUNT	10168692
+SHUFFLE	COPY_MAP_DATA	998713000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10256736
+SHUFFLE	COMPRESS_BYTE_COUNT	10256740
+SHUFFLE	COPY_MAP_DATA	2234468000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9160244
+SHUFFLE	COMPRESS_BYTE_COUNT	9160248
+SHUFFLE	COPY_MAP_DATA	2322208000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10659450
+SHUFFLE	COMPRESS_BYTE_COUNT	10659454
+SHUFFLE	COPY_MAP_DATA	825620000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10721596
+SHUFFLE	COMPRESS_BYTE_COUNT	10721600
+SHUFFLE	COPY_MAP_DATA	625363000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10278496
+SHUFFLE	COMPRESS_BYTE_COUNT	10278500
+SHUFFLE	COPY_MAP_DATA	1700373000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9583415
+SHUFFLE	COMPRESS_BYTE_COUNT	9583419
+SHUFFLE	COPY_MAP_DATA	127597000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11159790
+SHUFFLE	COMPRESS_BYTE_COUNT	11159794
+SHUFFLE	COPY_MAP_DATA	201802000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10279026
+SHUFFLE	COMPRESS_BYTE_COUNT	10279030
+SHUFFLE	COPY_MAP_DATA	199986000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10534266
+SHUFFLE	COMPRESS_BYTE_COUNT	10534270
+SHUFFLE	COPY_MAP_DATA	115366000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10581224
+SHUFFLE	COMPRESS_BYTE_COUNT	10581228
+SHUFFLE	COPY_MAP_DATA	1160800000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10445090
+SHUFFLE	COMPRESS_BYTE_COUNT	10445094
+SHUFFLE	COPY_MAP_DATA	130988000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11933908
+SHUFFLE	COMPRESS_BYTE_COUNT	11933912
+SHUFFLE	COPY_MAP_DATA	1849932000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12450244
+SHUFFLE	COMPRESS_BYTE_COUNT	12450248
+SHUFFLE	COPY_MAP_DATA	416159000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11670672
+SHUFFLE	COMPRESS_BYTE_COUNT	11670676
+SHUFFLE	COPY_MAP_DATA	692558000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12867538
+SHUFFLE	COMPRESS_BYTE_COUNT	12867542
+SHUFFLE	COPY_MAP_DATA	613066000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12024835
+SHUFFLE	COMPRESS_BYTE_COUNT	12024839
+SHUFFLE	COPY_MAP_DATA	487565000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13625083
+SHUFFLE	COMPRESS_BYTE_COUNT	13625087
+SHUFFLE	COPY_MAP_DATA	1261362000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12728236
+SHUFFLE	COMPRESS_BYTE_COUNT	12728240
+SHUFFLE	COPY_MAP_DATA	202800000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12541366
+SHUFFLE	COMPRESS_BYTE_COUNT	12541370
+SHUFFLE	COPY_MAP_DATA	9144135000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12943666
+SHUFFLE	COMPRESS_BYTE_COUNT	12943670
+SHUFFLE	COPY_MAP_DATA	7857678000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12183441
+SHUFFLE	COMPRESS_BYTE_COUNT	12183445
+SHUFFLE	COPY_MAP_DATA	2252537000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11716103
+SHUFFLE	COMPRESS_BYTE_COUNT	11716107
+SHUFFLE	COPY_MAP_DATA	4417066000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12984062
+SHUFFLE	COMPRESS_BYTE_COUNT	12984066
+SHUFFLE	COPY_MAP_DATA	974015000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13621518
+SHUFFLE	COMPRESS_BYTE_COUNT	13621522
+SHUFFLE	COPY_MAP_DATA	3779449000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12850918
+SHUFFLE	COMPRESS_BYTE_COUNT	12850922
+SHUFFLE	COPY_MAP_DATA	2227825000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13307051
+SHUFFLE	COMPRESS_BYTE_COUNT	13307055
+SHUFFLE	COPY_MAP_DATA	2128769000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	111856513000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	COMBINE	111641901000
+MERGE	WRITE	14357111000
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	4905111000
+SORT	READ_WRITE	4802980000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	118285888
+REDUCE	SETUP	9841000
+REDUCE	SETUP_MEM	118285888
+REDUCE	CLEANUP	38000
+REDUCE	CLEANUP_MEM	105847952
+REDUCE	TOTAL_RUN	103337288000
+REDUCE	READ	19731582000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	49873506000
+REDUCE	WRITE	22924909000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	115384824
+REDUCE	VALUE_BYTE_COUNT	6899487
+REDUCE	REDUCE_MEM	105847952
+REDUCE	WRITE	9893000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	596063485000
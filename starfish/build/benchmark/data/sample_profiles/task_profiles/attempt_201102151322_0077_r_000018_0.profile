@@ -0,0 +1,149 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	8358216
+SHUFFLE	COMPRESS_BYTE_COUNT	8358220
+SHUFFLE	COPY_MAP_DATA	4663229000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	6908016
+SHUFFLE	COMPRESS_BYTE_COUNT	6908020
+SHUFFLE	COPY_MAP_DATA	2191542000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9829651
+SHUFFLE	COMPRESS_BYTE_COUNT	9829655
+SHUFFLE	COPY_MAP_DATA	287874000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10217064
+SHUFFLE	COMPRESS_BYTE_COUNT	10217068
+SHUFFLE	COPY_MAP_DATA	1363965000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10245091
+SHUFFLE	COMPRESS_BYTE_COUNT	10245095
+SHUFFLE	COPY_MAP_DATA	234144000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9241980
+SHUFFLE	COMPRESS_BYTE_COUNT	9241984
+SHUFFLE	COPY_MAP_DATA	206794000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10746578
+SHUFFLE	COMPRESS_BYTE_COUNT	10746582
+SHUFFLE	COPY_MAP_DATA	212966000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10685958
+SHUFFLE	COMPRESS_BYTE_COUNT	10685962
+SHUFFLE	COPY_MAP_DATA	238590000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10305423
+SHUFFLE	COMPRESS_BYTE_COUNT	10305427
+SHUFFLE	COPY_MAP_DATA	338873000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9623990
+SHUFFLE	COMPRESS_BYTE_COUNT	9623994
+SHUFFLE	COPY_MAP_DATA	347881000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10329290
+SHUFFLE	COMPRESS_BYTE_COUNT	10329294
+SHUFFLE	COPY_MAP_DATA	170725000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10580068
+SHUFFLE	COMPRESS_BYTE_COUNT	10580072
+SHUFFLE	COPY_MAP_DATA	129500000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11180192
+SHUFFLE	COMPRESS_BYTE_COUNT	11180196
+SHUFFLE	COPY_MAP_DATA	1547717000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10537418
+SHUFFLE	COMPRESS_BYTE_COUNT	10537422
+SHUFFLE	COPY_MAP_DATA	125352000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10487430
+SHUFFLE	COMPRESS_BYTE_COUNT	10487434
+SHUFFLE	COPY_MAP_DATA	215841000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12472244
+SHUFFLE	COMPRESS_BYTE_COUNT	12472248
+SHUFFLE	COPY_MAP_DATA	110116000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12001688
+SHUFFLE	COMPRESS_BYTE_COUNT	12001692
+SHUFFLE	COPY_MAP_DATA	820429000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11690568
+SHUFFLE	COMPRESS_BYTE_COUNT	11690572
+SHUFFLE	COPY_MAP_DATA	184138000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12918006
+SHUFFLE	COMPRESS_BYTE_COUNT	12918010
+SHUFFLE	COPY_MAP_DATA	1469846000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12075746
+SHUFFLE	COMPRESS_BYTE_COUNT	12075750
+SHUFFLE	COPY_MAP_DATA	1968244000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13649309
+SHUFFLE	COMPRESS_BYTE_COUNT	13649313
+SHUFFLE	COPY_MAP_DATA	248115000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12766448
+SHUFFLE	COMPRESS_BYTE_COUNT	12766452
+SHUFFLE	COPY_MAP_DATA	188520000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12567592
+SHUFFLE	COMPRESS_BYTE_COUNT	12567596
+SHUFFLE	COPY_MAP_DATA	6738754000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13004480
+SHUFFLE	COMPRESS_BYTE_COUNT	13004484
+SHUFFLE	COPY_MAP_DATA	7076223000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12228517
+SHUFFLE	COMPRESS_BYTE_COUNT	12228521
+SHUFFLE	COPY_MAP_DATA	5647826000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11658423
+SHUFFLE	COMPRESS_BYTE_COUNT	11658427
+SHUFFLE	COPY_MAP_DATA	3063744000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13015795
+SHUFFLE	COMPRESS_BYTE_COUNT	13015799
+SHUFFLE	COPY_MAP_DATA	1960674000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13611293
+SHUFFLE	COMPRESS_BYTE_COUNT	13611297
+SHUFFLE	COPY_MAP_DATA	4122171000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12864702
+SHUFFLE	COMPRESS_BYTE_COUNT	12864706
+SHUFFLE	COPY_MAP_DATA	2086530000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13351418
+SHUFFLE	COMPRESS_BYTE_COUNT	13351422
+SHUFFLE	COPY_MAP_DATA	873290000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	114591013000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	COMBINE	114368457000
+MERGE	WRITE	20722849000
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	9330867000
+SORT	READ_WRITE	9221966000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	132900240
+REDUCE	SETUP	325000
+REDUCE	SETUP_MEM	132900240
+REDUCE	CLEANUP	44000
+REDUCE	CLEANUP_MEM	100499816
+REDUCE	TOTAL_RUN	113493190000
+REDUCE	READ	19802806000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	60375435000
+REDUCE	WRITE	32258007000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	115285098
+REDUCE	VALUE_BYTE_COUNT	6895638
+REDUCE	REDUCE_MEM	100499816
+REDUCE	WRITE	13338000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	613078878000
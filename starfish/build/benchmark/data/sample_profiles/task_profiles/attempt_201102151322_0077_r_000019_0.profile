@@ -0,0 +1,149 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	6915534
+SHUFFLE	COMPRESS_BYTE_COUNT	6915538
+SHUFFLE	COPY_MAP_DATA	520837000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	8354768
+SHUFFLE	COMPRESS_BYTE_COUNT	8354772
+SHUFFLE	COPY_MAP_DATA	279568000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9800218
+SHUFFLE	COMPRESS_BYTE_COUNT	9800222
+SHUFFLE	COPY_MAP_DATA	1083928000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10125196
+SHUFFLE	COMPRESS_BYTE_COUNT	10125200
+SHUFFLE	COPY_MAP_DATA	594693000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9193762
+SHUFFLE	COMPRESS_BYTE_COUNT	9193766
+SHUFFLE	COPY_MAP_DATA	2351967000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10245953
+SHUFFLE	COMPRESS_BYTE_COUNT	10245957
+SHUFFLE	COPY_MAP_DATA	112489000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10653360
+SHUFFLE	COMPRESS_BYTE_COUNT	10653364
+SHUFFLE	COPY_MAP_DATA	1839612000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10756770
+SHUFFLE	COMPRESS_BYTE_COUNT	10756774
+SHUFFLE	COPY_MAP_DATA	317002000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10292748
+SHUFFLE	COMPRESS_BYTE_COUNT	10292752
+SHUFFLE	COPY_MAP_DATA	124987000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9617728
+SHUFFLE	COMPRESS_BYTE_COUNT	9617732
+SHUFFLE	COPY_MAP_DATA	586907000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10333004
+SHUFFLE	COMPRESS_BYTE_COUNT	10333008
+SHUFFLE	COPY_MAP_DATA	758701000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10516668
+SHUFFLE	COMPRESS_BYTE_COUNT	10516672
+SHUFFLE	COPY_MAP_DATA	264735000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10589352
+SHUFFLE	COMPRESS_BYTE_COUNT	10589356
+SHUFFLE	COPY_MAP_DATA	340921000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11191040
+SHUFFLE	COMPRESS_BYTE_COUNT	11191044
+SHUFFLE	COPY_MAP_DATA	529193000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10418117
+SHUFFLE	COMPRESS_BYTE_COUNT	10418121
+SHUFFLE	COPY_MAP_DATA	606602000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11975069
+SHUFFLE	COMPRESS_BYTE_COUNT	11975073
+SHUFFLE	COPY_MAP_DATA	2961861000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12439754
+SHUFFLE	COMPRESS_BYTE_COUNT	12439758
+SHUFFLE	COPY_MAP_DATA	757243000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11646362
+SHUFFLE	COMPRESS_BYTE_COUNT	11646366
+SHUFFLE	COPY_MAP_DATA	2238756000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12890922
+SHUFFLE	COMPRESS_BYTE_COUNT	12890926
+SHUFFLE	COPY_MAP_DATA	342118000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12018944
+SHUFFLE	COMPRESS_BYTE_COUNT	12018948
+SHUFFLE	COPY_MAP_DATA	855218000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13644252
+SHUFFLE	COMPRESS_BYTE_COUNT	13644256
+SHUFFLE	COPY_MAP_DATA	550109000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12739160
+SHUFFLE	COMPRESS_BYTE_COUNT	12739164
+SHUFFLE	COPY_MAP_DATA	1239637000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12589386
+SHUFFLE	COMPRESS_BYTE_COUNT	12589390
+SHUFFLE	COPY_MAP_DATA	6455605000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12931306
+SHUFFLE	COMPRESS_BYTE_COUNT	12931310
+SHUFFLE	COPY_MAP_DATA	7144022000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12189892
+SHUFFLE	COMPRESS_BYTE_COUNT	12189896
+SHUFFLE	COPY_MAP_DATA	6205945000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11668866
+SHUFFLE	COMPRESS_BYTE_COUNT	11668870
+SHUFFLE	COPY_MAP_DATA	5075416000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13011636
+SHUFFLE	COMPRESS_BYTE_COUNT	13011640
+SHUFFLE	COPY_MAP_DATA	190170000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13644646
+SHUFFLE	COMPRESS_BYTE_COUNT	13644650
+SHUFFLE	COPY_MAP_DATA	2646027000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12833640
+SHUFFLE	COMPRESS_BYTE_COUNT	12833644
+SHUFFLE	COPY_MAP_DATA	805584000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13382492
+SHUFFLE	COMPRESS_BYTE_COUNT	13382496
+SHUFFLE	COPY_MAP_DATA	1796645000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	204938224115
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	COMBINE	203950281115
+MERGE	WRITE	33201932000
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	7619424000
+SORT	READ_WRITE	7290099000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	264209672
+REDUCE	SETUP	394000
+REDUCE	SETUP_MEM	264209672
+REDUCE	CLEANUP	30000
+REDUCE	CLEANUP_MEM	216243648
+REDUCE	TOTAL_RUN	152068916097
+REDUCE	READ	36388965000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	68704680360
+REDUCE	WRITE	31840707360
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	115349414
+REDUCE	VALUE_BYTE_COUNT	6896354
+REDUCE	REDUCE_MEM	216243648
+REDUCE	WRITE	199561000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	650825372144
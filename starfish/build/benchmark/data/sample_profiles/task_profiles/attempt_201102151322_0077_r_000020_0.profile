@@ -0,0 +1,149 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	6912028
+SHUFFLE	COMPRESS_BYTE_COUNT	6912032
+SHUFFLE	COPY_MAP_DATA	431685000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	8337192
+SHUFFLE	COMPRESS_BYTE_COUNT	8337196
+SHUFFLE	COPY_MAP_DATA	595189000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10175530
+SHUFFLE	COMPRESS_BYTE_COUNT	10175534
+SHUFFLE	COPY_MAP_DATA	1119163000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9768338
+SHUFFLE	COMPRESS_BYTE_COUNT	9768342
+SHUFFLE	COPY_MAP_DATA	2320935000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10219462
+SHUFFLE	COMPRESS_BYTE_COUNT	10219466
+SHUFFLE	COPY_MAP_DATA	244919000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9224280
+SHUFFLE	COMPRESS_BYTE_COUNT	9224284
+SHUFFLE	COPY_MAP_DATA	122715000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10642458
+SHUFFLE	COMPRESS_BYTE_COUNT	10642462
+SHUFFLE	COPY_MAP_DATA	3299016000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10734762
+SHUFFLE	COMPRESS_BYTE_COUNT	10734766
+SHUFFLE	COPY_MAP_DATA	469797000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10271962
+SHUFFLE	COMPRESS_BYTE_COUNT	10271966
+SHUFFLE	COPY_MAP_DATA	4756981000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9562578
+SHUFFLE	COMPRESS_BYTE_COUNT	9562582
+SHUFFLE	COPY_MAP_DATA	139429000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10288449
+SHUFFLE	COMPRESS_BYTE_COUNT	10288453
+SHUFFLE	COPY_MAP_DATA	155861000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11129124
+SHUFFLE	COMPRESS_BYTE_COUNT	11129128
+SHUFFLE	COPY_MAP_DATA	2927624000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10569720
+SHUFFLE	COMPRESS_BYTE_COUNT	10569724
+SHUFFLE	COPY_MAP_DATA	696953000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10482913
+SHUFFLE	COMPRESS_BYTE_COUNT	10482917
+SHUFFLE	COPY_MAP_DATA	187513000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10430760
+SHUFFLE	COMPRESS_BYTE_COUNT	10430764
+SHUFFLE	COPY_MAP_DATA	206753000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11971806
+SHUFFLE	COMPRESS_BYTE_COUNT	11971810
+SHUFFLE	COPY_MAP_DATA	593830000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12389440
+SHUFFLE	COMPRESS_BYTE_COUNT	12389444
+SHUFFLE	COPY_MAP_DATA	264150000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11607778
+SHUFFLE	COMPRESS_BYTE_COUNT	11607782
+SHUFFLE	COPY_MAP_DATA	200138000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12837486
+SHUFFLE	COMPRESS_BYTE_COUNT	12837490
+SHUFFLE	COPY_MAP_DATA	1430147000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12025254
+SHUFFLE	COMPRESS_BYTE_COUNT	12025258
+SHUFFLE	COPY_MAP_DATA	1363592000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13627238
+SHUFFLE	COMPRESS_BYTE_COUNT	13627242
+SHUFFLE	COPY_MAP_DATA	18735510000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12731851
+SHUFFLE	COMPRESS_BYTE_COUNT	12731855
+SHUFFLE	COPY_MAP_DATA	245986000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12560432
+SHUFFLE	COMPRESS_BYTE_COUNT	12560436
+SHUFFLE	COPY_MAP_DATA	311964000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12988027
+SHUFFLE	COMPRESS_BYTE_COUNT	12988031
+SHUFFLE	COPY_MAP_DATA	4666836000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12222170
+SHUFFLE	COMPRESS_BYTE_COUNT	12222174
+SHUFFLE	COPY_MAP_DATA	3733415000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11641408
+SHUFFLE	COMPRESS_BYTE_COUNT	11641412
+SHUFFLE	COPY_MAP_DATA	3695956000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13014980
+SHUFFLE	COMPRESS_BYTE_COUNT	13014984
+SHUFFLE	COPY_MAP_DATA	941411000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13636664
+SHUFFLE	COMPRESS_BYTE_COUNT	13636668
+SHUFFLE	COPY_MAP_DATA	233921000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12839981
+SHUFFLE	COMPRESS_BYTE_COUNT	12839985
+SHUFFLE	COPY_MAP_DATA	204990000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13326766
+SHUFFLE	COMPRESS_BYTE_COUNT	13326770
+SHUFFLE	COPY_MAP_DATA	2717373000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	241695524993
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	COMBINE	241320624993
+MERGE	WRITE	41532979000
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	5343032935
+SORT	READ_WRITE	5111341935
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	241130744
+REDUCE	SETUP	13338000
+REDUCE	SETUP_MEM	241130744
+REDUCE	CLEANUP	43000
+REDUCE	CLEANUP_MEM	232902184
+REDUCE	TOTAL_RUN	171338318127
+REDUCE	READ	48427468000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	74411574127
+REDUCE	WRITE	33107749000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	115373388
+REDUCE	VALUE_BYTE_COUNT	6898651
+REDUCE	REDUCE_MEM	232902184
+REDUCE	WRITE	16174000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	670317949412
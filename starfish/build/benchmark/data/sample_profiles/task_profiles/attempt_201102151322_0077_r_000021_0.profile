@@ -0,0 +1,149 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	6949286
+SHUFFLE	COMPRESS_BYTE_COUNT	6949290
+SHUFFLE	COPY_MAP_DATA	282109000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	8410250
+SHUFFLE	COMPRESS_BYTE_COUNT	8410254
+SHUFFLE	COPY_MAP_DATA	266583000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9847487
+SHUFFLE	COMPRESS_BYTE_COUNT	9847491
+SHUFFLE	COPY_MAP_DATA	797303000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10235512
+SHUFFLE	COMPRESS_BYTE_COUNT	10235516
+SHUFFLE	COPY_MAP_DATA	542451000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9245034
+SHUFFLE	COMPRESS_BYTE_COUNT	9245038
+SHUFFLE	COPY_MAP_DATA	317468000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10278948
+SHUFFLE	COMPRESS_BYTE_COUNT	10278952
+SHUFFLE	COPY_MAP_DATA	386722000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10716415
+SHUFFLE	COMPRESS_BYTE_COUNT	10716419
+SHUFFLE	COPY_MAP_DATA	176090000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10369929
+SHUFFLE	COMPRESS_BYTE_COUNT	10369933
+SHUFFLE	COPY_MAP_DATA	320336000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10773730
+SHUFFLE	COMPRESS_BYTE_COUNT	10773734
+SHUFFLE	COPY_MAP_DATA	445074000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9644177
+SHUFFLE	COMPRESS_BYTE_COUNT	9644181
+SHUFFLE	COPY_MAP_DATA	379936000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10301848
+SHUFFLE	COMPRESS_BYTE_COUNT	10301852
+SHUFFLE	COPY_MAP_DATA	178663000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11207939
+SHUFFLE	COMPRESS_BYTE_COUNT	11207943
+SHUFFLE	COPY_MAP_DATA	234652000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10539171
+SHUFFLE	COMPRESS_BYTE_COUNT	10539175
+SHUFFLE	COPY_MAP_DATA	157287000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10581226
+SHUFFLE	COMPRESS_BYTE_COUNT	10581230
+SHUFFLE	COPY_MAP_DATA	149877000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10520573
+SHUFFLE	COMPRESS_BYTE_COUNT	10520577
+SHUFFLE	COPY_MAP_DATA	1200618000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12000734
+SHUFFLE	COMPRESS_BYTE_COUNT	12000738
+SHUFFLE	COPY_MAP_DATA	909567000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12507615
+SHUFFLE	COMPRESS_BYTE_COUNT	12507619
+SHUFFLE	COPY_MAP_DATA	1004437000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11707382
+SHUFFLE	COMPRESS_BYTE_COUNT	11707386
+SHUFFLE	COPY_MAP_DATA	930090000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12096174
+SHUFFLE	COMPRESS_BYTE_COUNT	12096178
+SHUFFLE	COPY_MAP_DATA	321045000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12981360
+SHUFFLE	COMPRESS_BYTE_COUNT	12981364
+SHUFFLE	COPY_MAP_DATA	266067000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13670124
+SHUFFLE	COMPRESS_BYTE_COUNT	13670128
+SHUFFLE	COPY_MAP_DATA	553617000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12775906
+SHUFFLE	COMPRESS_BYTE_COUNT	12775910
+SHUFFLE	COPY_MAP_DATA	248978000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12617678
+SHUFFLE	COMPRESS_BYTE_COUNT	12617682
+SHUFFLE	COPY_MAP_DATA	172109000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13043974
+SHUFFLE	COMPRESS_BYTE_COUNT	13043978
+SHUFFLE	COPY_MAP_DATA	150747000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12214974
+SHUFFLE	COMPRESS_BYTE_COUNT	12214978
+SHUFFLE	COPY_MAP_DATA	6090558000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11738516
+SHUFFLE	COMPRESS_BYTE_COUNT	11738520
+SHUFFLE	COPY_MAP_DATA	321882000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13060214
+SHUFFLE	COMPRESS_BYTE_COUNT	13060218
+SHUFFLE	COPY_MAP_DATA	383938000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13708520
+SHUFFLE	COMPRESS_BYTE_COUNT	13708524
+SHUFFLE	COPY_MAP_DATA	376287000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12907278
+SHUFFLE	COMPRESS_BYTE_COUNT	12907282
+SHUFFLE	COPY_MAP_DATA	633773000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13392728
+SHUFFLE	COMPRESS_BYTE_COUNT	13392732
+SHUFFLE	COPY_MAP_DATA	1702853000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	96969169000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	COMBINE	96648379000
+MERGE	WRITE	13733078000
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	6975904000
+SORT	READ_WRITE	6845099000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	98713504
+REDUCE	SETUP	4236000
+REDUCE	SETUP_MEM	98713504
+REDUCE	CLEANUP	39000
+REDUCE	CLEANUP_MEM	84449640
+REDUCE	TOTAL_RUN	103774808000
+REDUCE	READ	20755171000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	48516646000
+REDUCE	WRITE	21292653000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	115421434
+REDUCE	VALUE_BYTE_COUNT	6901667
+REDUCE	REDUCE_MEM	84451688
+REDUCE	WRITE	33259000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	600034270000
@@ -0,0 +1,149 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	6929922
+SHUFFLE	COMPRESS_BYTE_COUNT	6929926
+SHUFFLE	COPY_MAP_DATA	787582000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	8362400
+SHUFFLE	COMPRESS_BYTE_COUNT	8362404
+SHUFFLE	COPY_MAP_DATA	1388293000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9787050
+SHUFFLE	COMPRESS_BYTE_COUNT	9787054
+SHUFFLE	COPY_MAP_DATA	7519291000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10184898
+SHUFFLE	COMPRESS_BYTE_COUNT	10184902
+SHUFFLE	COPY_MAP_DATA	175189000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10198152
+SHUFFLE	COMPRESS_BYTE_COUNT	10198156
+SHUFFLE	COPY_MAP_DATA	820242000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9203232
+SHUFFLE	COMPRESS_BYTE_COUNT	9203236
+SHUFFLE	COPY_MAP_DATA	250832000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10700498
+SHUFFLE	COMPRESS_BYTE_COUNT	10700502
+SHUFFLE	COPY_MAP_DATA	1475707000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10621902
+SHUFFLE	COMPRESS_BYTE_COUNT	10621906
+SHUFFLE	COPY_MAP_DATA	147706000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10271326
+SHUFFLE	COMPRESS_BYTE_COUNT	10271330
+SHUFFLE	COPY_MAP_DATA	122382000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9586920
+SHUFFLE	COMPRESS_BYTE_COUNT	9586924
+SHUFFLE	COPY_MAP_DATA	1402966000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11146684
+SHUFFLE	COMPRESS_BYTE_COUNT	11146688
+SHUFFLE	COPY_MAP_DATA	3885898000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10289376
+SHUFFLE	COMPRESS_BYTE_COUNT	10289380
+SHUFFLE	COPY_MAP_DATA	2379380000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10540116
+SHUFFLE	COMPRESS_BYTE_COUNT	10540120
+SHUFFLE	COPY_MAP_DATA	1798443000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10584298
+SHUFFLE	COMPRESS_BYTE_COUNT	10584302
+SHUFFLE	COPY_MAP_DATA	140000000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10416148
+SHUFFLE	COMPRESS_BYTE_COUNT	10416152
+SHUFFLE	COPY_MAP_DATA	1322590000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11970230
+SHUFFLE	COMPRESS_BYTE_COUNT	11970234
+SHUFFLE	COPY_MAP_DATA	6505615000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11640860
+SHUFFLE	COMPRESS_BYTE_COUNT	11640864
+SHUFFLE	COPY_MAP_DATA	8380297000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12439630
+SHUFFLE	COMPRESS_BYTE_COUNT	12439634
+SHUFFLE	COPY_MAP_DATA	142208000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12862096
+SHUFFLE	COMPRESS_BYTE_COUNT	12862100
+SHUFFLE	COPY_MAP_DATA	689827000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12007070
+SHUFFLE	COMPRESS_BYTE_COUNT	12007074
+SHUFFLE	COPY_MAP_DATA	2002232000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13653924
+SHUFFLE	COMPRESS_BYTE_COUNT	13653928
+SHUFFLE	COPY_MAP_DATA	191893000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12739020
+SHUFFLE	COMPRESS_BYTE_COUNT	12739024
+SHUFFLE	COPY_MAP_DATA	303439000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12498409
+SHUFFLE	COMPRESS_BYTE_COUNT	12498413
+SHUFFLE	COPY_MAP_DATA	234107000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12987156
+SHUFFLE	COMPRESS_BYTE_COUNT	12987160
+SHUFFLE	COPY_MAP_DATA	852988000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12170082
+SHUFFLE	COMPRESS_BYTE_COUNT	12170086
+SHUFFLE	COPY_MAP_DATA	785786000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11624138
+SHUFFLE	COMPRESS_BYTE_COUNT	11624142
+SHUFFLE	COPY_MAP_DATA	922214000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12970116
+SHUFFLE	COMPRESS_BYTE_COUNT	12970120
+SHUFFLE	COPY_MAP_DATA	713252000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13619127
+SHUFFLE	COMPRESS_BYTE_COUNT	13619131
+SHUFFLE	COPY_MAP_DATA	375161000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12846730
+SHUFFLE	COMPRESS_BYTE_COUNT	12846734
+SHUFFLE	COPY_MAP_DATA	1450595000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13286868
+SHUFFLE	COMPRESS_BYTE_COUNT	13286872
+SHUFFLE	COPY_MAP_DATA	184608000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	150292060000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	COMBINE	150027069000
+MERGE	WRITE	21608470000
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	6995841000
+SORT	READ_WRITE	6890360000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	124782040
+REDUCE	SETUP	308000
+REDUCE	SETUP_MEM	124782040
+REDUCE	CLEANUP	39000
+REDUCE	CLEANUP_MEM	128559400
+REDUCE	TOTAL_RUN	102187479000
+REDUCE	READ	19948095000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	48156975000
+REDUCE	WRITE	21601365000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	115453824
+REDUCE	VALUE_BYTE_COUNT	6902429
+REDUCE	REDUCE_MEM	128559400
+REDUCE	WRITE	369210000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	597942716000
@@ -0,0 +1,149 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	8393714
+SHUFFLE	COMPRESS_BYTE_COUNT	8393718
+SHUFFLE	COPY_MAP_DATA	953702000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	6963690
+SHUFFLE	COMPRESS_BYTE_COUNT	6963694
+SHUFFLE	COPY_MAP_DATA	249901000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10207874
+SHUFFLE	COMPRESS_BYTE_COUNT	10207878
+SHUFFLE	COPY_MAP_DATA	3494711000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9836190
+SHUFFLE	COMPRESS_BYTE_COUNT	9836194
+SHUFFLE	COPY_MAP_DATA	288293000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10311938
+SHUFFLE	COMPRESS_BYTE_COUNT	10311942
+SHUFFLE	COPY_MAP_DATA	458940000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9254740
+SHUFFLE	COMPRESS_BYTE_COUNT	9254744
+SHUFFLE	COPY_MAP_DATA	182130000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10722152
+SHUFFLE	COMPRESS_BYTE_COUNT	10722156
+SHUFFLE	COPY_MAP_DATA	598722000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10804348
+SHUFFLE	COMPRESS_BYTE_COUNT	10804352
+SHUFFLE	COPY_MAP_DATA	111913000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10379764
+SHUFFLE	COMPRESS_BYTE_COUNT	10379768
+SHUFFLE	COPY_MAP_DATA	227923000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9631488
+SHUFFLE	COMPRESS_BYTE_COUNT	9631492
+SHUFFLE	COPY_MAP_DATA	258642000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10329420
+SHUFFLE	COMPRESS_BYTE_COUNT	10329424
+SHUFFLE	COPY_MAP_DATA	195817000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11255980
+SHUFFLE	COMPRESS_BYTE_COUNT	11255984
+SHUFFLE	COPY_MAP_DATA	319665000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10586165
+SHUFFLE	COMPRESS_BYTE_COUNT	10586169
+SHUFFLE	COPY_MAP_DATA	132762000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10627860
+SHUFFLE	COMPRESS_BYTE_COUNT	10627864
+SHUFFLE	COPY_MAP_DATA	383331000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10477955
+SHUFFLE	COMPRESS_BYTE_COUNT	10477959
+SHUFFLE	COPY_MAP_DATA	989257000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12543922
+SHUFFLE	COMPRESS_BYTE_COUNT	12543926
+SHUFFLE	COPY_MAP_DATA	357349000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12064782
+SHUFFLE	COMPRESS_BYTE_COUNT	12064786
+SHUFFLE	COPY_MAP_DATA	236244000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11734026
+SHUFFLE	COMPRESS_BYTE_COUNT	11734030
+SHUFFLE	COPY_MAP_DATA	509722000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12953662
+SHUFFLE	COMPRESS_BYTE_COUNT	12953666
+SHUFFLE	COPY_MAP_DATA	1020211000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12085646
+SHUFFLE	COMPRESS_BYTE_COUNT	12085650
+SHUFFLE	COPY_MAP_DATA	385023000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13739963
+SHUFFLE	COMPRESS_BYTE_COUNT	13739967
+SHUFFLE	COPY_MAP_DATA	559416000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12813286
+SHUFFLE	COMPRESS_BYTE_COUNT	12813290
+SHUFFLE	COPY_MAP_DATA	920218000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12655710
+SHUFFLE	COMPRESS_BYTE_COUNT	12655714
+SHUFFLE	COPY_MAP_DATA	624145000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13053266
+SHUFFLE	COMPRESS_BYTE_COUNT	13053270
+SHUFFLE	COPY_MAP_DATA	365837000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12240102
+SHUFFLE	COMPRESS_BYTE_COUNT	12240106
+SHUFFLE	COPY_MAP_DATA	173865000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11731488
+SHUFFLE	COMPRESS_BYTE_COUNT	11731492
+SHUFFLE	COPY_MAP_DATA	411243000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13045866
+SHUFFLE	COMPRESS_BYTE_COUNT	13045870
+SHUFFLE	COPY_MAP_DATA	160092000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13739756
+SHUFFLE	COMPRESS_BYTE_COUNT	13739760
+SHUFFLE	COPY_MAP_DATA	261113000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12925768
+SHUFFLE	COMPRESS_BYTE_COUNT	12925772
+SHUFFLE	COPY_MAP_DATA	583561000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13430502
+SHUFFLE	COMPRESS_BYTE_COUNT	13430506
+SHUFFLE	COPY_MAP_DATA	1587734000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	93210987000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	COMBINE	93001659000
+MERGE	WRITE	13234270000
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	9001398000
+SORT	READ_WRITE	8841182000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	132142176
+REDUCE	SETUP	431000
+REDUCE	SETUP_MEM	132142176
+REDUCE	CLEANUP	37000
+REDUCE	CLEANUP_MEM	128938800
+REDUCE	TOTAL_RUN	114919850989
+REDUCE	READ	21333831000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	56245559000
+REDUCE	WRITE	25518364000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	115400296
+REDUCE	VALUE_BYTE_COUNT	6899584
+REDUCE	REDUCE_MEM	128938800
+REDUCE	WRITE	10634000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	615950438989
@@ -0,0 +1,149 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	6938826
+SHUFFLE	COMPRESS_BYTE_COUNT	6938830
+SHUFFLE	COPY_MAP_DATA	5645148000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	8423060
+SHUFFLE	COMPRESS_BYTE_COUNT	8423064
+SHUFFLE	COPY_MAP_DATA	614056000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10235603
+SHUFFLE	COMPRESS_BYTE_COUNT	10235607
+SHUFFLE	COPY_MAP_DATA	1498941000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9836730
+SHUFFLE	COMPRESS_BYTE_COUNT	9836734
+SHUFFLE	COPY_MAP_DATA	1224576000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10331390
+SHUFFLE	COMPRESS_BYTE_COUNT	10331394
+SHUFFLE	COPY_MAP_DATA	323526000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9269052
+SHUFFLE	COMPRESS_BYTE_COUNT	9269056
+SHUFFLE	COPY_MAP_DATA	200939000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10780134
+SHUFFLE	COMPRESS_BYTE_COUNT	10780138
+SHUFFLE	COPY_MAP_DATA	229488000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10737068
+SHUFFLE	COMPRESS_BYTE_COUNT	10737072
+SHUFFLE	COPY_MAP_DATA	158039000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10340456
+SHUFFLE	COMPRESS_BYTE_COUNT	10340460
+SHUFFLE	COPY_MAP_DATA	84735000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9663110
+SHUFFLE	COMPRESS_BYTE_COUNT	9663114
+SHUFFLE	COPY_MAP_DATA	249565000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10415106
+SHUFFLE	COMPRESS_BYTE_COUNT	10415110
+SHUFFLE	COPY_MAP_DATA	333802000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10572876
+SHUFFLE	COMPRESS_BYTE_COUNT	10572880
+SHUFFLE	COPY_MAP_DATA	390734000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11239211
+SHUFFLE	COMPRESS_BYTE_COUNT	11239215
+SHUFFLE	COPY_MAP_DATA	652122000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10632030
+SHUFFLE	COMPRESS_BYTE_COUNT	10632034
+SHUFFLE	COPY_MAP_DATA	311478000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10501152
+SHUFFLE	COMPRESS_BYTE_COUNT	10501156
+SHUFFLE	COPY_MAP_DATA	727084000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11982908
+SHUFFLE	COMPRESS_BYTE_COUNT	11982912
+SHUFFLE	COPY_MAP_DATA	528040000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12559546
+SHUFFLE	COMPRESS_BYTE_COUNT	12559550
+SHUFFLE	COPY_MAP_DATA	344999000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11786856
+SHUFFLE	COMPRESS_BYTE_COUNT	11786860
+SHUFFLE	COPY_MAP_DATA	746092000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12957182
+SHUFFLE	COMPRESS_BYTE_COUNT	12957186
+SHUFFLE	COPY_MAP_DATA	705672000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12107310
+SHUFFLE	COMPRESS_BYTE_COUNT	12107314
+SHUFFLE	COPY_MAP_DATA	171845000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13791505
+SHUFFLE	COMPRESS_BYTE_COUNT	13791509
+SHUFFLE	COPY_MAP_DATA	1230259000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12799836
+SHUFFLE	COMPRESS_BYTE_COUNT	12799840
+SHUFFLE	COPY_MAP_DATA	208832000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12651000
+SHUFFLE	COMPRESS_BYTE_COUNT	12651004
+SHUFFLE	COPY_MAP_DATA	191814000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13117138
+SHUFFLE	COMPRESS_BYTE_COUNT	13117142
+SHUFFLE	COPY_MAP_DATA	276770000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12314832
+SHUFFLE	COMPRESS_BYTE_COUNT	12314836
+SHUFFLE	COPY_MAP_DATA	229183000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11723256
+SHUFFLE	COMPRESS_BYTE_COUNT	11723260
+SHUFFLE	COPY_MAP_DATA	141787000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13079744
+SHUFFLE	COMPRESS_BYTE_COUNT	13079748
+SHUFFLE	COPY_MAP_DATA	903701000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13710610
+SHUFFLE	COMPRESS_BYTE_COUNT	13710614
+SHUFFLE	COPY_MAP_DATA	378173000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12952578
+SHUFFLE	COMPRESS_BYTE_COUNT	12952582
+SHUFFLE	COPY_MAP_DATA	181863000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13372902
+SHUFFLE	COMPRESS_BYTE_COUNT	13372906
+SHUFFLE	COPY_MAP_DATA	1035521000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	112252770000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	COMBINE	111417238000
+MERGE	WRITE	18093062000
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	9173258000
+SORT	READ_WRITE	9023693000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	122110856
+REDUCE	SETUP	430000
+REDUCE	SETUP_MEM	122110856
+REDUCE	CLEANUP	45000
+REDUCE	CLEANUP_MEM	135741392
+REDUCE	TOTAL_RUN	111850008000
+REDUCE	READ	20026251000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	57030530000
+REDUCE	WRITE	28874706000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	115494460
+REDUCE	VALUE_BYTE_COUNT	6904636
+REDUCE	REDUCE_MEM	135743440
+REDUCE	WRITE	25388000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	611464242000
@@ -0,0 +1,149 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	8379860
+SHUFFLE	COMPRESS_BYTE_COUNT	8379864
+SHUFFLE	COPY_MAP_DATA	1573944000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	6928048
+SHUFFLE	COMPRESS_BYTE_COUNT	6928052
+SHUFFLE	COPY_MAP_DATA	609821000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10167748
+SHUFFLE	COMPRESS_BYTE_COUNT	10167752
+SHUFFLE	COPY_MAP_DATA	2200122000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9811868
+SHUFFLE	COMPRESS_BYTE_COUNT	9811872
+SHUFFLE	COPY_MAP_DATA	157026000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10275208
+SHUFFLE	COMPRESS_BYTE_COUNT	10275212
+SHUFFLE	COPY_MAP_DATA	151567000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9259220
+SHUFFLE	COMPRESS_BYTE_COUNT	9259224
+SHUFFLE	COPY_MAP_DATA	298946000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10747810
+SHUFFLE	COMPRESS_BYTE_COUNT	10747814
+SHUFFLE	COPY_MAP_DATA	297149000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10663859
+SHUFFLE	COMPRESS_BYTE_COUNT	10663863
+SHUFFLE	COPY_MAP_DATA	130449000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10337446
+SHUFFLE	COMPRESS_BYTE_COUNT	10337450
+SHUFFLE	COPY_MAP_DATA	291086000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9634960
+SHUFFLE	COMPRESS_BYTE_COUNT	9634964
+SHUFFLE	COPY_MAP_DATA	109835000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10371660
+SHUFFLE	COMPRESS_BYTE_COUNT	10371664
+SHUFFLE	COPY_MAP_DATA	644789000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10549398
+SHUFFLE	COMPRESS_BYTE_COUNT	10549402
+SHUFFLE	COPY_MAP_DATA	1138052000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11206178
+SHUFFLE	COMPRESS_BYTE_COUNT	11206182
+SHUFFLE	COPY_MAP_DATA	333395000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10593834
+SHUFFLE	COMPRESS_BYTE_COUNT	10593838
+SHUFFLE	COPY_MAP_DATA	145989000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10464966
+SHUFFLE	COMPRESS_BYTE_COUNT	10464970
+SHUFFLE	COPY_MAP_DATA	142247000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11984084
+SHUFFLE	COMPRESS_BYTE_COUNT	11984088
+SHUFFLE	COPY_MAP_DATA	155596000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12460545
+SHUFFLE	COMPRESS_BYTE_COUNT	12460549
+SHUFFLE	COPY_MAP_DATA	283607000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11711632
+SHUFFLE	COMPRESS_BYTE_COUNT	11711636
+SHUFFLE	COPY_MAP_DATA	549911000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12935594
+SHUFFLE	COMPRESS_BYTE_COUNT	12935598
+SHUFFLE	COPY_MAP_DATA	1039174000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12033070
+SHUFFLE	COMPRESS_BYTE_COUNT	12033074
+SHUFFLE	COPY_MAP_DATA	516836000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13673088
+SHUFFLE	COMPRESS_BYTE_COUNT	13673092
+SHUFFLE	COPY_MAP_DATA	749395000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12741210
+SHUFFLE	COMPRESS_BYTE_COUNT	12741214
+SHUFFLE	COPY_MAP_DATA	255647000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12610738
+SHUFFLE	COMPRESS_BYTE_COUNT	12610742
+SHUFFLE	COPY_MAP_DATA	281663000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13021719
+SHUFFLE	COMPRESS_BYTE_COUNT	13021723
+SHUFFLE	COPY_MAP_DATA	208981000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12218076
+SHUFFLE	COMPRESS_BYTE_COUNT	12218080
+SHUFFLE	COPY_MAP_DATA	144169000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11725358
+SHUFFLE	COMPRESS_BYTE_COUNT	11725362
+SHUFFLE	COPY_MAP_DATA	207880000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12995380
+SHUFFLE	COMPRESS_BYTE_COUNT	12995384
+SHUFFLE	COPY_MAP_DATA	569894000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13641862
+SHUFFLE	COMPRESS_BYTE_COUNT	13641866
+SHUFFLE	COPY_MAP_DATA	484001000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12916824
+SHUFFLE	COMPRESS_BYTE_COUNT	12916828
+SHUFFLE	COPY_MAP_DATA	142033000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13359733
+SHUFFLE	COMPRESS_BYTE_COUNT	13359737
+SHUFFLE	COPY_MAP_DATA	1164516000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	112623346910
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	COMBINE	112345135910
+MERGE	WRITE	16519073143
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	7001006000
+SORT	READ_WRITE	6910426000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	132726016
+REDUCE	SETUP	381000
+REDUCE	SETUP_MEM	132726016
+REDUCE	CLEANUP	40000
+REDUCE	CLEANUP_MEM	118401016
+REDUCE	TOTAL_RUN	127140951285
+REDUCE	READ	20312106999
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	57800384000
+REDUCE	WRITE	25938417000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	115439352
+REDUCE	VALUE_BYTE_COUNT	6904177
+REDUCE	REDUCE_MEM	118401016
+REDUCE	WRITE	11219000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	627848624578
@@ -0,0 +1,149 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	6910386
+SHUFFLE	COMPRESS_BYTE_COUNT	6910390
+SHUFFLE	COPY_MAP_DATA	8933556000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	8339976
+SHUFFLE	COMPRESS_BYTE_COUNT	8339980
+SHUFFLE	COPY_MAP_DATA	597770000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9751870
+SHUFFLE	COMPRESS_BYTE_COUNT	9751874
+SHUFFLE	COPY_MAP_DATA	7229561000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10167666
+SHUFFLE	COMPRESS_BYTE_COUNT	10167670
+SHUFFLE	COPY_MAP_DATA	489199000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10212470
+SHUFFLE	COMPRESS_BYTE_COUNT	10212474
+SHUFFLE	COPY_MAP_DATA	387594000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9204798
+SHUFFLE	COMPRESS_BYTE_COUNT	9204802
+SHUFFLE	COPY_MAP_DATA	669148000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10751976
+SHUFFLE	COMPRESS_BYTE_COUNT	10751980
+SHUFFLE	COPY_MAP_DATA	833869000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10647584
+SHUFFLE	COMPRESS_BYTE_COUNT	10647588
+SHUFFLE	COPY_MAP_DATA	602473000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10325066
+SHUFFLE	COMPRESS_BYTE_COUNT	10325070
+SHUFFLE	COPY_MAP_DATA	483253000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9594587
+SHUFFLE	COMPRESS_BYTE_COUNT	9594591
+SHUFFLE	COPY_MAP_DATA	645312000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10308112
+SHUFFLE	COMPRESS_BYTE_COUNT	10308116
+SHUFFLE	COPY_MAP_DATA	705290000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10511274
+SHUFFLE	COMPRESS_BYTE_COUNT	10511278
+SHUFFLE	COPY_MAP_DATA	1010332000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10560490
+SHUFFLE	COMPRESS_BYTE_COUNT	10560494
+SHUFFLE	COPY_MAP_DATA	1838075000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11148392
+SHUFFLE	COMPRESS_BYTE_COUNT	11148396
+SHUFFLE	COPY_MAP_DATA	1062372000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10432102
+SHUFFLE	COMPRESS_BYTE_COUNT	10432106
+SHUFFLE	COPY_MAP_DATA	828535000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11953656
+SHUFFLE	COMPRESS_BYTE_COUNT	11953660
+SHUFFLE	COPY_MAP_DATA	556762000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12440822
+SHUFFLE	COMPRESS_BYTE_COUNT	12440826
+SHUFFLE	COPY_MAP_DATA	200688000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11672653
+SHUFFLE	COMPRESS_BYTE_COUNT	11672657
+SHUFFLE	COPY_MAP_DATA	149529000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12009330
+SHUFFLE	COMPRESS_BYTE_COUNT	12009334
+SHUFFLE	COPY_MAP_DATA	208153000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12862199
+SHUFFLE	COMPRESS_BYTE_COUNT	12862203
+SHUFFLE	COPY_MAP_DATA	530531000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13630940
+SHUFFLE	COMPRESS_BYTE_COUNT	13630944
+SHUFFLE	COPY_MAP_DATA	233200000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12710134
+SHUFFLE	COMPRESS_BYTE_COUNT	12710138
+SHUFFLE	COPY_MAP_DATA	270129000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12567368
+SHUFFLE	COMPRESS_BYTE_COUNT	12567372
+SHUFFLE	COPY_MAP_DATA	267569000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12976064
+SHUFFLE	COMPRESS_BYTE_COUNT	12976068
+SHUFFLE	COPY_MAP_DATA	208842000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12164082
+SHUFFLE	COMPRESS_BYTE_COUNT	12164086
+SHUFFLE	COPY_MAP_DATA	171300000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11708742
+SHUFFLE	COMPRESS_BYTE_COUNT	11708746
+SHUFFLE	COPY_MAP_DATA	203057000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13025385
+SHUFFLE	COMPRESS_BYTE_COUNT	13025389
+SHUFFLE	COPY_MAP_DATA	187365000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13586471
+SHUFFLE	COMPRESS_BYTE_COUNT	13586475
+SHUFFLE	COPY_MAP_DATA	1313820000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12827868
+SHUFFLE	COMPRESS_BYTE_COUNT	12827872
+SHUFFLE	COPY_MAP_DATA	277327000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13342454
+SHUFFLE	COMPRESS_BYTE_COUNT	13342458
+SHUFFLE	COPY_MAP_DATA	240369000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	141945737000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	COMBINE	141593982000
+MERGE	WRITE	20192660000
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	5019122000
+SORT	READ_WRITE	4920124000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	113003792
+REDUCE	SETUP	13852000
+REDUCE	SETUP_MEM	113003792
+REDUCE	CLEANUP	47000
+REDUCE	CLEANUP_MEM	121790368
+REDUCE	TOTAL_RUN	106273632000
+REDUCE	READ	22100623000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	49515459000
+REDUCE	WRITE	23020894000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	115415804
+REDUCE	VALUE_BYTE_COUNT	6899704
+REDUCE	REDUCE_MEM	121792416
+REDUCE	WRITE	74739000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	599095952000
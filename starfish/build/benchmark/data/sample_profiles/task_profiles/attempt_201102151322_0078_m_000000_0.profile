@@ -0,0 +1,291 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt/part-00106	0
+MAP	STARTUP_MEM	214760952
+MAP	SETUP	526000
+MAP	SETUP_MEM	214760952
+SPILL	SORT_AND_SPILL	23033794000
+SPILL	QUICK_SORT	11956945000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	10832102000
+SPILL	WRITE	5581422000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11574580
+SPILL	COMPRESS_BYTE_COUNT	4518546
+SPILL	SORT_AND_SPILL	21153538000
+SPILL	QUICK_SORT	11042650000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10056703000
+SPILL	WRITE	5219556000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11217728
+SPILL	COMPRESS_BYTE_COUNT	4493810
+SPILL	SORT_AND_SPILL	21900733000
+SPILL	QUICK_SORT	10205237000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10442508000
+SPILL	WRITE	5351685000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11849188
+SPILL	COMPRESS_BYTE_COUNT	4638802
+SPILL	SORT_AND_SPILL	21414749000
+SPILL	QUICK_SORT	11552190000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	9811194000
+SPILL	WRITE	5041954000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	10975751
+SPILL	COMPRESS_BYTE_COUNT	4247917
+SPILL	SORT_AND_SPILL	22210816000
+SPILL	QUICK_SORT	11180261000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	10583860000
+SPILL	WRITE	5459776000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12021895
+SPILL	COMPRESS_BYTE_COUNT	4723950
+SPILL	SORT_AND_SPILL	23417709450
+SPILL	QUICK_SORT	11577178000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11767834450
+SPILL	WRITE	6173950450
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11854468
+SPILL	COMPRESS_BYTE_COUNT	4596959
+SPILL	SORT_AND_SPILL	21106876000
+SPILL	QUICK_SORT	11174642000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	9374197000
+SPILL	WRITE	4734916000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	10137053
+SPILL	COMPRESS_BYTE_COUNT	3954313
+SPILL	SORT_AND_SPILL	20821721000
+SPILL	QUICK_SORT	10489535000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10272172000
+SPILL	WRITE	5304883000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11438306
+SPILL	COMPRESS_BYTE_COUNT	4562676
+SPILL	SORT_AND_SPILL	22760508000
+SPILL	QUICK_SORT	10722842000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10772135000
+SPILL	WRITE	5500696000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11805715
+SPILL	COMPRESS_BYTE_COUNT	4629223
+SPILL	SORT_AND_SPILL	20051051000
+SPILL	QUICK_SORT	9739671000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	10263152000
+SPILL	WRITE	5219590000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11229367
+SPILL	COMPRESS_BYTE_COUNT	4383816
+SPILL	SORT_AND_SPILL	22553041000
+SPILL	QUICK_SORT	11365357000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11041378000
+SPILL	WRITE	5656724000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11976482
+SPILL	COMPRESS_BYTE_COUNT	4750266
+SPILL	SORT_AND_SPILL	23482718000
+SPILL	QUICK_SORT	10526151000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	12896209000
+SPILL	WRITE	6596369000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12035680
+SPILL	COMPRESS_BYTE_COUNT	4717758
+SPILL	SORT_AND_SPILL	21938856000
+SPILL	QUICK_SORT	11103602000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10658306000
+SPILL	WRITE	5511986000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11857477
+SPILL	COMPRESS_BYTE_COUNT	4735749
+SPILL	SORT_AND_SPILL	22241523000
+SPILL	QUICK_SORT	10501455000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11687809000
+SPILL	WRITE	6044917000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11725719
+SPILL	COMPRESS_BYTE_COUNT	4544959
+SPILL	SORT_AND_SPILL	22116113000
+SPILL	QUICK_SORT	10746247000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	11240038000
+SPILL	WRITE	5671788000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11886826
+SPILL	COMPRESS_BYTE_COUNT	4684802
+SPILL	SORT_AND_SPILL	21143883000
+SPILL	QUICK_SORT	10433467000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10650923000
+SPILL	WRITE	5522384000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11834484
+SPILL	COMPRESS_BYTE_COUNT	4663597
+SPILL	SORT_AND_SPILL	22300197000
+SPILL	QUICK_SORT	9944929000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	12121761000
+SPILL	WRITE	5939919000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12156596
+SPILL	COMPRESS_BYTE_COUNT	4766470
+SPILL	SORT_AND_SPILL	21067158000
+SPILL	QUICK_SORT	10775767000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10240742000
+SPILL	WRITE	5298042000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11617244
+SPILL	COMPRESS_BYTE_COUNT	4527707
+SPILL	SORT_AND_SPILL	20741320000
+SPILL	QUICK_SORT	9810034000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10479855000
+SPILL	WRITE	5364628000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11615310
+SPILL	COMPRESS_BYTE_COUNT	4566400
+SPILL	SORT_AND_SPILL	21419911000
+SPILL	QUICK_SORT	10443509000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	10916233000
+SPILL	WRITE	5754349000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12237842
+SPILL	COMPRESS_BYTE_COUNT	4840377
+SPILL	SORT_AND_SPILL	21465849000
+SPILL	QUICK_SORT	9872382000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10954964000
+SPILL	WRITE	5743047000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12105783
+SPILL	COMPRESS_BYTE_COUNT	4724775
+SPILL	SORT_AND_SPILL	15408049000
+SPILL	QUICK_SORT	8818082000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	6512037000
+SPILL	WRITE	2932478000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	6348643
+SPILL	COMPRESS_BYTE_COUNT	2535699
+SPILL	SORT_AND_SPILL	15588033000
+SPILL	QUICK_SORT	9548250000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	5919281000
+SPILL	WRITE	2502107000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	5884094
+SPILL	COMPRESS_BYTE_COUNT	2376481
+SPILL	SORT_AND_SPILL	17165755000
+SPILL	QUICK_SORT	10137190000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	6975617000
+SPILL	WRITE	3111977000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7015826
+SPILL	COMPRESS_BYTE_COUNT	2797574
+SPILL	SORT_AND_SPILL	20430635000
+SPILL	QUICK_SORT	11173529000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	9136394000
+SPILL	WRITE	4559533000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	9979398
+SPILL	COMPRESS_BYTE_COUNT	3913051
+SPILL	SORT_AND_SPILL	17135605000
+SPILL	QUICK_SORT	10027153000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	7052975000
+SPILL	WRITE	3152375000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7103265
+SPILL	COMPRESS_BYTE_COUNT	2805836
+SPILL	SORT_AND_SPILL	19562564000
+SPILL	QUICK_SORT	10323389000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	9100986000
+SPILL	WRITE	4489287000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	9812361
+SPILL	COMPRESS_BYTE_COUNT	3925461
+SPILL	SORT_AND_SPILL	12493086000
+SPILL	QUICK_SORT	7676023000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	4767299000
+SPILL	WRITE	1856991000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	4128708
+SPILL	COMPRESS_BYTE_COUNT	1647925
+SPILL	SORT_AND_SPILL	14383746000
+SPILL	QUICK_SORT	8632752000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	4965044000
+SPILL	WRITE	1905915000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	4340868
+SPILL	COMPRESS_BYTE_COUNT	1719956
+SPILL	SORT_AND_SPILL	18182662000
+SPILL	QUICK_SORT	9452966000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	8674360000
+SPILL	WRITE	4216060000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	9345582
+SPILL	COMPRESS_BYTE_COUNT	3707131
+SPILL	SORT_AND_SPILL	22014696000
+SPILL	QUICK_SORT	11595872000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10277899000
+SPILL	WRITE	5292969000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11670145
+SPILL	COMPRESS_BYTE_COUNT	4618816
+SPILL	SORT_AND_SPILL	20548054000
+SPILL	QUICK_SORT	9711634000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10781333000
+SPILL	WRITE	5684019000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11942899
+SPILL	COMPRESS_BYTE_COUNT	4680641
+MAP	CLEANUP	101000
+MAP	CLEANUP_MEM	245034232
+MAP	TOTAL_RUN	777873357450
+MAP	READ	705503000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	120876
+MAP	VALUE_BYTE_COUNT	45068801
+MAP	MAP	777091099450
+MAP	WRITE	736632868450
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	31738403000
+MAP	SERIALIZE_OUTPUT	590202933450
+MAP	MAP_MEM	245034232
+SPILL	SORT_AND_SPILL	19661328000
+SPILL	QUICK_SORT	9309240000
+SPILL	SORT_COUNT	821937
+SPILL	COMBINE	10235687000
+SPILL	WRITE	5291767000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11531820
+SPILL	COMPRESS_BYTE_COUNT	4526762
+MERGE	TOTAL_MERGE	316301466896
+MERGE	READ_WRITE	315092290896
+MERGE	READ_WRITE_COUNT	108
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	1114301677346
@@ -0,0 +1,283 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt/part-00102	0
+MAP	STARTUP_MEM	213966296
+MAP	SETUP	529000
+MAP	SETUP_MEM	213966296
+SPILL	SORT_AND_SPILL	25899848159
+SPILL	QUICK_SORT	13509104159
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	11979792000
+SPILL	WRITE	5743465000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11966587
+SPILL	COMPRESS_BYTE_COUNT	4702002
+SPILL	SORT_AND_SPILL	24559192000
+SPILL	QUICK_SORT	11713820000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	12231092000
+SPILL	WRITE	5964690000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11934405
+SPILL	COMPRESS_BYTE_COUNT	4671717
+SPILL	SORT_AND_SPILL	24122731143
+SPILL	QUICK_SORT	11881822143
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	12175907000
+SPILL	WRITE	5878749000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12057832
+SPILL	COMPRESS_BYTE_COUNT	4673650
+SPILL	SORT_AND_SPILL	26458429000
+SPILL	QUICK_SORT	14108711000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	12048175000
+SPILL	WRITE	5667403000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11888480
+SPILL	COMPRESS_BYTE_COUNT	4613965
+SPILL	SORT_AND_SPILL	26457813142
+SPILL	QUICK_SORT	13858077142
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	12168620000
+SPILL	WRITE	5838320000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12069950
+SPILL	COMPRESS_BYTE_COUNT	4703257
+SPILL	SORT_AND_SPILL	24704821000
+SPILL	QUICK_SORT	12678814000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11721450000
+SPILL	WRITE	5707053000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11636089
+SPILL	COMPRESS_BYTE_COUNT	4543655
+SPILL	SORT_AND_SPILL	24067281143
+SPILL	QUICK_SORT	12235904143
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11770173000
+SPILL	WRITE	5707316000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11777669
+SPILL	COMPRESS_BYTE_COUNT	4632213
+SPILL	SORT_AND_SPILL	24200418000
+SPILL	QUICK_SORT	12734877000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11328243000
+SPILL	WRITE	5632197000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11303795
+SPILL	COMPRESS_BYTE_COUNT	4355039
+SPILL	SORT_AND_SPILL	23605232990
+SPILL	QUICK_SORT	11235239990
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	12307868000
+SPILL	WRITE	5818783000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11732682
+SPILL	COMPRESS_BYTE_COUNT	4598275
+SPILL	SORT_AND_SPILL	23535436000
+SPILL	QUICK_SORT	11320316000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	11769070000
+SPILL	WRITE	5722972000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11845130
+SPILL	COMPRESS_BYTE_COUNT	4599671
+SPILL	SORT_AND_SPILL	23502968295
+SPILL	QUICK_SORT	10466278295
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	12968833000
+SPILL	WRITE	5929984000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11681253
+SPILL	COMPRESS_BYTE_COUNT	4604893
+SPILL	SORT_AND_SPILL	22445831000
+SPILL	QUICK_SORT	10564880000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11674111000
+SPILL	WRITE	5332061000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11439799
+SPILL	COMPRESS_BYTE_COUNT	4430203
+SPILL	SORT_AND_SPILL	24574576142
+SPILL	QUICK_SORT	10419400000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	14083766142
+SPILL	WRITE	6700226000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12266527
+SPILL	COMPRESS_BYTE_COUNT	4784168
+SPILL	SORT_AND_SPILL	23265393000
+SPILL	QUICK_SORT	10342227000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	12762392000
+SPILL	WRITE	6009754000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11885211
+SPILL	COMPRESS_BYTE_COUNT	4660545
+SPILL	SORT_AND_SPILL	23826046143
+SPILL	QUICK_SORT	10568928000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	13190519143
+SPILL	WRITE	6077456143
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11956283
+SPILL	COMPRESS_BYTE_COUNT	4685419
+SPILL	SORT_AND_SPILL	22371446000
+SPILL	QUICK_SORT	9500581000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10545711000
+SPILL	WRITE	4927839000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	10324821
+SPILL	COMPRESS_BYTE_COUNT	3984630
+SPILL	SORT_AND_SPILL	22796915143
+SPILL	QUICK_SORT	11058192000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11677411143
+SPILL	WRITE	5533969000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11978799
+SPILL	COMPRESS_BYTE_COUNT	4666058
+SPILL	SORT_AND_SPILL	23337643000
+SPILL	QUICK_SORT	11223217000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11416224000
+SPILL	WRITE	5519141000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11529914
+SPILL	COMPRESS_BYTE_COUNT	4497272
+SPILL	SORT_AND_SPILL	23337702142
+SPILL	QUICK_SORT	11585785000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11694789142
+SPILL	WRITE	5428978000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11787265
+SPILL	COMPRESS_BYTE_COUNT	4565661
+SPILL	SORT_AND_SPILL	24166267000
+SPILL	QUICK_SORT	12377206000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	11456804000
+SPILL	WRITE	5513260000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11560493
+SPILL	COMPRESS_BYTE_COUNT	4559488
+SPILL	SORT_AND_SPILL	24357903143
+SPILL	QUICK_SORT	12520172000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11773655143
+SPILL	WRITE	5741232000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11966885
+SPILL	COMPRESS_BYTE_COUNT	4625697
+SPILL	SORT_AND_SPILL	23679431000
+SPILL	QUICK_SORT	11608493000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11766724000
+SPILL	WRITE	5448485000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11731495
+SPILL	COMPRESS_BYTE_COUNT	4545327
+SPILL	SORT_AND_SPILL	24249129142
+SPILL	QUICK_SORT	12411958000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11772960142
+SPILL	WRITE	5759611000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11943021
+SPILL	COMPRESS_BYTE_COUNT	4665660
+SPILL	SORT_AND_SPILL	23342472000
+SPILL	QUICK_SORT	11657520000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11504275000
+SPILL	WRITE	5469356000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11750078
+SPILL	COMPRESS_BYTE_COUNT	4651288
+SPILL	SORT_AND_SPILL	25594344000
+SPILL	QUICK_SORT	12257592000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	13259014000
+SPILL	WRITE	6800550000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12054323
+SPILL	COMPRESS_BYTE_COUNT	4715133
+SPILL	SORT_AND_SPILL	23141529000
+SPILL	QUICK_SORT	11154830000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11597405000
+SPILL	WRITE	5622659000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11722896
+SPILL	COMPRESS_BYTE_COUNT	4623518
+SPILL	SORT_AND_SPILL	25187326143
+SPILL	QUICK_SORT	12181480000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	12941714143
+SPILL	WRITE	6118781143
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11965914
+SPILL	COMPRESS_BYTE_COUNT	4689487
+SPILL	SORT_AND_SPILL	24870891000
+SPILL	QUICK_SORT	10358516000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	14204833000
+SPILL	WRITE	7062100000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11975326
+SPILL	COMPRESS_BYTE_COUNT	4710550
+SPILL	SORT_AND_SPILL	22358812000
+SPILL	QUICK_SORT	10565071000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11730376000
+SPILL	WRITE	5491453000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11858152
+SPILL	COMPRESS_BYTE_COUNT	4667712
+SPILL	SORT_AND_SPILL	24745019000
+SPILL	QUICK_SORT	12215714000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	12065730000
+SPILL	WRITE	5702807000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11546546
+SPILL	COMPRESS_BYTE_COUNT	4518445
+SPILL	SORT_AND_SPILL	24482750000
+SPILL	QUICK_SORT	12154082000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	12266807000
+SPILL	WRITE	5679322000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11916443
+SPILL	COMPRESS_BYTE_COUNT	4671621
+MAP	CLEANUP	135000
+MAP	CLEANUP_MEM	255998296
+MAP	TOTAL_RUN	908619779155
+MAP	READ	1027488000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	135221
+MAP	VALUE_BYTE_COUNT	41656128
+MAP	MAP	907489595155
+MAP	WRITE	851593286012
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	43840414000
+MAP	SERIALIZE_OUTPUT	674007407710
+MAP	MAP_MEM	255998296
+SPILL	SORT_AND_SPILL	7385314143
+SPILL	QUICK_SORT	3315601143
+SPILL	SORT_COUNT	263280
+SPILL	COMBINE	3978947000
+SPILL	WRITE	1743309000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	3727632
+SPILL	COMPRESS_BYTE_COUNT	1456195
+MERGE	TOTAL_MERGE	544770085283
+MERGE	READ_WRITE	536032495283
+MERGE	READ_WRITE_COUNT	108
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	1461245794581
@@ -0,0 +1,283 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt/part-00100	0
+MAP	STARTUP_MEM	213942344
+MAP	SETUP	515000
+MAP	SETUP_MEM	213942344
+SPILL	SORT_AND_SPILL	28393507159
+SPILL	QUICK_SORT	14523996159
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	13286519000
+SPILL	WRITE	6223386000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11729550
+SPILL	COMPRESS_BYTE_COUNT	4516857
+SPILL	SORT_AND_SPILL	25092115000
+SPILL	QUICK_SORT	12899868000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11437737000
+SPILL	WRITE	5639445000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11887602
+SPILL	COMPRESS_BYTE_COUNT	4639246
+SPILL	SORT_AND_SPILL	24319877000
+SPILL	QUICK_SORT	12074205000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11733445000
+SPILL	WRITE	5415849000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11805660
+SPILL	COMPRESS_BYTE_COUNT	4614408
+SPILL	SORT_AND_SPILL	23842690000
+SPILL	QUICK_SORT	12320414000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11464095000
+SPILL	WRITE	5493410000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11707890
+SPILL	COMPRESS_BYTE_COUNT	4548990
+SPILL	SORT_AND_SPILL	24072823142
+SPILL	QUICK_SORT	12168661142
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	11423119000
+SPILL	WRITE	5516635000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11677714
+SPILL	COMPRESS_BYTE_COUNT	4514967
+SPILL	SORT_AND_SPILL	24639593000
+SPILL	QUICK_SORT	12954918000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11619795000
+SPILL	WRITE	5511241000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12010074
+SPILL	COMPRESS_BYTE_COUNT	4706583
+SPILL	SORT_AND_SPILL	26519039143
+SPILL	QUICK_SORT	14811760143
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11456225000
+SPILL	WRITE	5487053000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11791360
+SPILL	COMPRESS_BYTE_COUNT	4603131
+SPILL	SORT_AND_SPILL	24531303000
+SPILL	QUICK_SORT	12742481000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11666150000
+SPILL	WRITE	5651692000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11886154
+SPILL	COMPRESS_BYTE_COUNT	4642741
+SPILL	SORT_AND_SPILL	24432878990
+SPILL	QUICK_SORT	12225573990
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11693313000
+SPILL	WRITE	5671498000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12076320
+SPILL	COMPRESS_BYTE_COUNT	4767702
+SPILL	SORT_AND_SPILL	24877295000
+SPILL	QUICK_SORT	12410221000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	12404612000
+SPILL	WRITE	5832833000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11953174
+SPILL	COMPRESS_BYTE_COUNT	4661220
+SPILL	SORT_AND_SPILL	25145866000
+SPILL	QUICK_SORT	11152694000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	13402847000
+SPILL	WRITE	6461517000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11950307
+SPILL	COMPRESS_BYTE_COUNT	4631567
+SPILL	SORT_AND_SPILL	26234110000
+SPILL	QUICK_SORT	12628451000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	13540125000
+SPILL	WRITE	6235305000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11822334
+SPILL	COMPRESS_BYTE_COUNT	4560620
+SPILL	SORT_AND_SPILL	25916443000
+SPILL	QUICK_SORT	11010472000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	14758119000
+SPILL	WRITE	7218268000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12080247
+SPILL	COMPRESS_BYTE_COUNT	4702312
+SPILL	SORT_AND_SPILL	26784449000
+SPILL	QUICK_SORT	10336848000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	15381638000
+SPILL	WRITE	6555652000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11875795
+SPILL	COMPRESS_BYTE_COUNT	4633140
+SPILL	SORT_AND_SPILL	25521596000
+SPILL	QUICK_SORT	11172183000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	14201955000
+SPILL	WRITE	5987887000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12078235
+SPILL	COMPRESS_BYTE_COUNT	4752334
+SPILL	SORT_AND_SPILL	26090508000
+SPILL	QUICK_SORT	14184623000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11785139000
+SPILL	WRITE	5666616000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11622504
+SPILL	COMPRESS_BYTE_COUNT	4499140
+SPILL	SORT_AND_SPILL	23337989000
+SPILL	QUICK_SORT	10789407000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	12425446000
+SPILL	WRITE	6032281000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11925749
+SPILL	COMPRESS_BYTE_COUNT	4608998
+SPILL	SORT_AND_SPILL	25561588000
+SPILL	QUICK_SORT	13643073000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11854366000
+SPILL	WRITE	5646427000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11920148
+SPILL	COMPRESS_BYTE_COUNT	4697502
+SPILL	SORT_AND_SPILL	23984951000
+SPILL	QUICK_SORT	12017533000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11622291000
+SPILL	WRITE	5580834000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11763067
+SPILL	COMPRESS_BYTE_COUNT	4562979
+SPILL	SORT_AND_SPILL	24388000000
+SPILL	QUICK_SORT	11961675000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	12361474000
+SPILL	WRITE	5661626000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11865799
+SPILL	COMPRESS_BYTE_COUNT	4632963
+SPILL	SORT_AND_SPILL	25055407000
+SPILL	QUICK_SORT	13351373000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11576893000
+SPILL	WRITE	5583446000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11386278
+SPILL	COMPRESS_BYTE_COUNT	4456532
+SPILL	SORT_AND_SPILL	24083481000
+SPILL	QUICK_SORT	11037729000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	12978642000
+SPILL	WRITE	6559192000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12049472
+SPILL	COMPRESS_BYTE_COUNT	4702639
+SPILL	SORT_AND_SPILL	25933908142
+SPILL	QUICK_SORT	12828264142
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	12552256000
+SPILL	WRITE	5832571000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11804834
+SPILL	COMPRESS_BYTE_COUNT	4622900
+SPILL	SORT_AND_SPILL	25374041000
+SPILL	QUICK_SORT	11823189000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11901685000
+SPILL	WRITE	5667927000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12080754
+SPILL	COMPRESS_BYTE_COUNT	4730688
+SPILL	SORT_AND_SPILL	24440987000
+SPILL	QUICK_SORT	12681669000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	11700740000
+SPILL	WRITE	5516376000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11413023
+SPILL	COMPRESS_BYTE_COUNT	4437716
+SPILL	SORT_AND_SPILL	24072786000
+SPILL	QUICK_SORT	10557068000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	13338686000
+SPILL	WRITE	6104684000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11213984
+SPILL	COMPRESS_BYTE_COUNT	4345527
+SPILL	SORT_AND_SPILL	25511797143
+SPILL	QUICK_SORT	10874036143
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	14566976000
+SPILL	WRITE	6827803000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12083069
+SPILL	COMPRESS_BYTE_COUNT	4809007
+SPILL	SORT_AND_SPILL	25553260000
+SPILL	QUICK_SORT	11143297000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	14283120000
+SPILL	WRITE	6974087000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11916099
+SPILL	COMPRESS_BYTE_COUNT	4688122
+SPILL	SORT_AND_SPILL	24422814142
+SPILL	QUICK_SORT	11942957142
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	12346009000
+SPILL	WRITE	5940305000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12213715
+SPILL	COMPRESS_BYTE_COUNT	4797861
+SPILL	SORT_AND_SPILL	24521594000
+SPILL	QUICK_SORT	11528996000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	12874215000
+SPILL	WRITE	5982411000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11390554
+SPILL	COMPRESS_BYTE_COUNT	4445553
+MAP	CLEANUP	103000
+MAP	CLEANUP_MEM	250041472
+MAP	TOTAL_RUN	908180745155
+MAP	READ	1189764000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	135832
+MAP	VALUE_BYTE_COUNT	41636842
+MAP	MAP	906889797155
+MAP	WRITE	856576238869
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	44027476428
+MAP	SERIALIZE_OUTPUT	701230811722
+MAP	MAP_MEM	250041472
+SPILL	SORT_AND_SPILL	22551918143
+SPILL	QUICK_SORT	10737788143
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11484112000
+SPILL	WRITE	5621770000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11332124
+SPILL	COMPRESS_BYTE_COUNT	4430403
+SPILL	SORT_AND_SPILL	3727894000
+SPILL	QUICK_SORT	1455730000
+SPILL	SORT_COUNT	151618
+SPILL	COMBINE	2253225000
+SPILL	WRITE	1045933000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	2384082
+SPILL	COMPRESS_BYTE_COUNT	907730
+MERGE	TOTAL_MERGE	532829736283
+MERGE	READ_WRITE	523544105283
+MERGE	READ_WRITE_COUNT	108
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	1465787431581
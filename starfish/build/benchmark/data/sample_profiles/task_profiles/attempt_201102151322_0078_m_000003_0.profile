@@ -0,0 +1,275 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt/part-00105	0
+MAP	STARTUP_MEM	214798376
+MAP	SETUP	518000
+MAP	SETUP_MEM	214798376
+SPILL	SORT_AND_SPILL	21687653000
+SPILL	QUICK_SORT	10218982000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	10283397000
+SPILL	WRITE	5228130000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11841568
+SPILL	COMPRESS_BYTE_COUNT	4643593
+SPILL	SORT_AND_SPILL	21386224000
+SPILL	QUICK_SORT	11000707000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10327399000
+SPILL	WRITE	5408680000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12119422
+SPILL	COMPRESS_BYTE_COUNT	4745641
+SPILL	SORT_AND_SPILL	21347535000
+SPILL	QUICK_SORT	10949904000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10259375000
+SPILL	WRITE	5372487000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11942550
+SPILL	COMPRESS_BYTE_COUNT	4668544
+SPILL	SORT_AND_SPILL	20955008000
+SPILL	QUICK_SORT	10540237000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10357850000
+SPILL	WRITE	5369672000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12075685
+SPILL	COMPRESS_BYTE_COUNT	4712269
+SPILL	SORT_AND_SPILL	21607670000
+SPILL	QUICK_SORT	9802237000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	10315392000
+SPILL	WRITE	5333092000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12086914
+SPILL	COMPRESS_BYTE_COUNT	4777366
+SPILL	SORT_AND_SPILL	21217646000
+SPILL	QUICK_SORT	10917574000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10235012000
+SPILL	WRITE	5296473000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11941073
+SPILL	COMPRESS_BYTE_COUNT	4655040
+SPILL	SORT_AND_SPILL	21256290000
+SPILL	QUICK_SORT	10814831000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10231271000
+SPILL	WRITE	5273474000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12060375
+SPILL	COMPRESS_BYTE_COUNT	4712566
+SPILL	SORT_AND_SPILL	21817408000
+SPILL	QUICK_SORT	11081173000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10679345000
+SPILL	WRITE	5558614000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12078164
+SPILL	COMPRESS_BYTE_COUNT	4712207
+SPILL	SORT_AND_SPILL	20779513000
+SPILL	QUICK_SORT	9706973000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	9904963000
+SPILL	WRITE	5100102000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11313846
+SPILL	COMPRESS_BYTE_COUNT	4462377
+SPILL	SORT_AND_SPILL	23696247760
+SPILL	QUICK_SORT	11943962760
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	11625929000
+SPILL	WRITE	5636031000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11810867
+SPILL	COMPRESS_BYTE_COUNT	4617021
+SPILL	SORT_AND_SPILL	21619355000
+SPILL	QUICK_SORT	9643261000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10409322000
+SPILL	WRITE	5262954000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12044230
+SPILL	COMPRESS_BYTE_COUNT	4757916
+SPILL	SORT_AND_SPILL	23819336000
+SPILL	QUICK_SORT	10527635000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	13231049000
+SPILL	WRITE	6727049000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12248560
+SPILL	COMPRESS_BYTE_COUNT	4791364
+SPILL	SORT_AND_SPILL	22930868000
+SPILL	QUICK_SORT	10043898000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	12156614000
+SPILL	WRITE	6276460000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12478763
+SPILL	COMPRESS_BYTE_COUNT	4897587
+SPILL	SORT_AND_SPILL	20111226000
+SPILL	QUICK_SORT	9780710000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10260902000
+SPILL	WRITE	5258728000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12017205
+SPILL	COMPRESS_BYTE_COUNT	4738740
+SPILL	SORT_AND_SPILL	20733875000
+SPILL	QUICK_SORT	10315986000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	10275986000
+SPILL	WRITE	5208196000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11668968
+SPILL	COMPRESS_BYTE_COUNT	4588036
+SPILL	SORT_AND_SPILL	21387446000
+SPILL	QUICK_SORT	10503145000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10829834000
+SPILL	WRITE	5380760000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11549014
+SPILL	COMPRESS_BYTE_COUNT	4487749
+SPILL	SORT_AND_SPILL	22607202000
+SPILL	QUICK_SORT	10531636000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11743626000
+SPILL	WRITE	5739246000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11723459
+SPILL	COMPRESS_BYTE_COUNT	4627458
+SPILL	SORT_AND_SPILL	21045944000
+SPILL	QUICK_SORT	10836793000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10156543000
+SPILL	WRITE	5299862000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11796227
+SPILL	COMPRESS_BYTE_COUNT	4582851
+SPILL	SORT_AND_SPILL	22175308000
+SPILL	QUICK_SORT	10802597000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10559308000
+SPILL	WRITE	5440207000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11917370
+SPILL	COMPRESS_BYTE_COUNT	4679742
+SPILL	SORT_AND_SPILL	21696037000
+SPILL	QUICK_SORT	11107655000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	10530598000
+SPILL	WRITE	5372172000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11932190
+SPILL	COMPRESS_BYTE_COUNT	4685657
+SPILL	SORT_AND_SPILL	21171566000
+SPILL	QUICK_SORT	10092409000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10897678000
+SPILL	WRITE	5668082000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11971485
+SPILL	COMPRESS_BYTE_COUNT	4657190
+SPILL	SORT_AND_SPILL	21386063000
+SPILL	QUICK_SORT	11283226000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10047985000
+SPILL	WRITE	5172635000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11735939
+SPILL	COMPRESS_BYTE_COUNT	4612788
+SPILL	SORT_AND_SPILL	22276759000
+SPILL	QUICK_SORT	10159083000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11988361000
+SPILL	WRITE	5783646000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11771737
+SPILL	COMPRESS_BYTE_COUNT	4603272
+SPILL	SORT_AND_SPILL	22665650000
+SPILL	QUICK_SORT	10084212000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	12525695000
+SPILL	WRITE	6102299000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11856350
+SPILL	COMPRESS_BYTE_COUNT	4658686
+SPILL	SORT_AND_SPILL	19511186000
+SPILL	QUICK_SORT	9559885000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	9833980000
+SPILL	WRITE	5044709000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11284854
+SPILL	COMPRESS_BYTE_COUNT	4360819
+SPILL	SORT_AND_SPILL	21345922000
+SPILL	QUICK_SORT	10740774000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10546399000
+SPILL	WRITE	5488268000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11998105
+SPILL	COMPRESS_BYTE_COUNT	4713894
+SPILL	SORT_AND_SPILL	22060097000
+SPILL	QUICK_SORT	9944251000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11996978000
+SPILL	WRITE	6212147000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12092242
+SPILL	COMPRESS_BYTE_COUNT	4693397
+SPILL	SORT_AND_SPILL	20513470000
+SPILL	QUICK_SORT	10169676000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10283506000
+SPILL	WRITE	5443880000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11904314
+SPILL	COMPRESS_BYTE_COUNT	4615234
+SPILL	SORT_AND_SPILL	22274986000
+SPILL	QUICK_SORT	10643499000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11326624000
+SPILL	WRITE	5788815000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	10680210
+SPILL	COMPRESS_BYTE_COUNT	4155814
+SPILL	SORT_AND_SPILL	20225330000
+SPILL	QUICK_SORT	9432039000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	10358407000
+SPILL	WRITE	5396363000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12118116
+SPILL	COMPRESS_BYTE_COUNT	4800189
+MAP	CLEANUP	52000
+MAP	CLEANUP_MEM	219289760
+MAP	TOTAL_RUN	766689253760
+MAP	READ	2209281000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	128407
+MAP	VALUE_BYTE_COUNT	40556197
+MAP	MAP	764307772760
+MAP	WRITE	732641497760
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	28048944000
+MAP	SERIALIZE_OUTPUT	623515160760
+MAP	MAP_MEM	219289760
+SPILL	SORT_AND_SPILL	7495857000
+SPILL	QUICK_SORT	3135247000
+SPILL	SORT_COUNT	309881
+SPILL	COMBINE	4267891000
+SPILL	WRITE	2139849000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	4679158
+SPILL	COMPRESS_BYTE_COUNT	1789558
+MERGE	TOTAL_MERGE	412315769000
+MERGE	READ_WRITE	402730827000
+MERGE	READ_WRITE_COUNT	108
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	1187113584760
@@ -0,0 +1,275 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt/part-00109	0
+MAP	STARTUP_MEM	213973360
+MAP	SETUP	525000
+MAP	SETUP_MEM	214829000
+SPILL	SORT_AND_SPILL	21705871000
+SPILL	QUICK_SORT	11343412000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	10177532000
+SPILL	WRITE	5300120000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11564546
+SPILL	COMPRESS_BYTE_COUNT	4522890
+SPILL	SORT_AND_SPILL	21181471000
+SPILL	QUICK_SORT	10841427000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10275117000
+SPILL	WRITE	5245159000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11710510
+SPILL	COMPRESS_BYTE_COUNT	4621529
+SPILL	SORT_AND_SPILL	21429879000
+SPILL	QUICK_SORT	10116236000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10346285000
+SPILL	WRITE	5310066000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11923829
+SPILL	COMPRESS_BYTE_COUNT	4717403
+SPILL	SORT_AND_SPILL	23271470000
+SPILL	QUICK_SORT	12841900000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10371587000
+SPILL	WRITE	5326293000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11991079
+SPILL	COMPRESS_BYTE_COUNT	4775461
+SPILL	SORT_AND_SPILL	21280033000
+SPILL	QUICK_SORT	10146679000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	10338294000
+SPILL	WRITE	5377085000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11884593
+SPILL	COMPRESS_BYTE_COUNT	4660158
+SPILL	SORT_AND_SPILL	21411214000
+SPILL	QUICK_SORT	10970739000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10384357000
+SPILL	WRITE	5373270000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12022382
+SPILL	COMPRESS_BYTE_COUNT	4710797
+SPILL	SORT_AND_SPILL	21544371000
+SPILL	QUICK_SORT	11003617000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10395603000
+SPILL	WRITE	5382647000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12157157
+SPILL	COMPRESS_BYTE_COUNT	4735839
+SPILL	SORT_AND_SPILL	18183706000
+SPILL	QUICK_SORT	9836419000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	8303122000
+SPILL	WRITE	3989824000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	9080885
+SPILL	COMPRESS_BYTE_COUNT	3635758
+SPILL	SORT_AND_SPILL	17208850000
+SPILL	QUICK_SORT	9728467000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	7037418000
+SPILL	WRITE	3274348000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7264172
+SPILL	COMPRESS_BYTE_COUNT	2880463
+SPILL	SORT_AND_SPILL	20320165760
+SPILL	QUICK_SORT	9714224760
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	10555763000
+SPILL	WRITE	5370491000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	10696472
+SPILL	COMPRESS_BYTE_COUNT	4232191
+SPILL	SORT_AND_SPILL	15713319000
+SPILL	QUICK_SORT	8421579000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	7171498000
+SPILL	WRITE	3314152000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7460219
+SPILL	COMPRESS_BYTE_COUNT	3001090
+SPILL	SORT_AND_SPILL	22265278000
+SPILL	QUICK_SORT	10630884000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11575407000
+SPILL	WRITE	5978007000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12152885
+SPILL	COMPRESS_BYTE_COUNT	4822881
+SPILL	SORT_AND_SPILL	20989920000
+SPILL	QUICK_SORT	9940174000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10758116000
+SPILL	WRITE	5515246000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11976440
+SPILL	COMPRESS_BYTE_COUNT	4733410
+SPILL	SORT_AND_SPILL	21775453000
+SPILL	QUICK_SORT	9611422000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	12088917000
+SPILL	WRITE	6115045000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11991094
+SPILL	COMPRESS_BYTE_COUNT	4677926
+SPILL	SORT_AND_SPILL	20421945000
+SPILL	QUICK_SORT	9476951000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	10819209000
+SPILL	WRITE	5680376000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11725687
+SPILL	COMPRESS_BYTE_COUNT	4596465
+SPILL	SORT_AND_SPILL	21174682000
+SPILL	QUICK_SORT	10830192000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10267150000
+SPILL	WRITE	5231074000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11858342
+SPILL	COMPRESS_BYTE_COUNT	4619175
+SPILL	SORT_AND_SPILL	19810771000
+SPILL	QUICK_SORT	9924128000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	9573209000
+SPILL	WRITE	4909733000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	10840686
+SPILL	COMPRESS_BYTE_COUNT	4229161
+SPILL	SORT_AND_SPILL	20758924000
+SPILL	QUICK_SORT	10468818000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10235614000
+SPILL	WRITE	5215719000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11908407
+SPILL	COMPRESS_BYTE_COUNT	4657679
+SPILL	SORT_AND_SPILL	20443805000
+SPILL	QUICK_SORT	9437641000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10211609000
+SPILL	WRITE	5274196000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11637944
+SPILL	COMPRESS_BYTE_COUNT	4548297
+SPILL	SORT_AND_SPILL	18030900000
+SPILL	QUICK_SORT	8982170000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	8995179000
+SPILL	WRITE	4465352000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	10129402
+SPILL	COMPRESS_BYTE_COUNT	3961645
+SPILL	SORT_AND_SPILL	21391939000
+SPILL	QUICK_SORT	9843866000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10233315000
+SPILL	WRITE	5285947000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11688005
+SPILL	COMPRESS_BYTE_COUNT	4555531
+SPILL	SORT_AND_SPILL	23809071000
+SPILL	QUICK_SORT	13519167000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10235676000
+SPILL	WRITE	5215477000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11801057
+SPILL	COMPRESS_BYTE_COUNT	4652967
+SPILL	SORT_AND_SPILL	24099989000
+SPILL	QUICK_SORT	10363299000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	13625796000
+SPILL	WRITE	6446845000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11500505
+SPILL	COMPRESS_BYTE_COUNT	4473095
+SPILL	SORT_AND_SPILL	20605953000
+SPILL	QUICK_SORT	10229868000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10319915000
+SPILL	WRITE	5183357000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11789831
+SPILL	COMPRESS_BYTE_COUNT	4664294
+SPILL	SORT_AND_SPILL	24309166000
+SPILL	QUICK_SORT	9499864000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	14661992000
+SPILL	WRITE	6708616000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12163910
+SPILL	COMPRESS_BYTE_COUNT	4797612
+SPILL	SORT_AND_SPILL	20521131000
+SPILL	QUICK_SORT	10420072000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10049634000
+SPILL	WRITE	5055074000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11470576
+SPILL	COMPRESS_BYTE_COUNT	4512769
+SPILL	SORT_AND_SPILL	24173458000
+SPILL	QUICK_SORT	10894066000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	12826656000
+SPILL	WRITE	6558970000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11976852
+SPILL	COMPRESS_BYTE_COUNT	4741595
+SPILL	SORT_AND_SPILL	22912179000
+SPILL	QUICK_SORT	9572193000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	13283872000
+SPILL	WRITE	7037701000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11608818
+SPILL	COMPRESS_BYTE_COUNT	4564521
+SPILL	SORT_AND_SPILL	22429060000
+SPILL	QUICK_SORT	9514614000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11641501000
+SPILL	WRITE	6419002000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11619380
+SPILL	COMPRESS_BYTE_COUNT	4529791
+MAP	CLEANUP	104000
+MAP	CLEANUP_MEM	224155736
+MAP	TOTAL_RUN	738041210760
+MAP	READ	2144152000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	135593
+MAP	VALUE_BYTE_COUNT	40490849
+MAP	MAP	735796126760
+MAP	WRITE	703859756760
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	26730360000
+MAP	SERIALIZE_OUTPUT	585867028000
+MAP	MAP_MEM	224155736
+SPILL	SORT_AND_SPILL	19625655000
+SPILL	QUICK_SORT	9442573000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	10124914000
+SPILL	WRITE	5179140000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11673881
+SPILL	COMPRESS_BYTE_COUNT	4668760
+SPILL	SORT_AND_SPILL	683926000
+SPILL	QUICK_SORT	270886000
+SPILL	SORT_COUNT	27719
+SPILL	COMBINE	340539000
+SPILL	WRITE	185143000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	489154
+SPILL	COMPRESS_BYTE_COUNT	195850
+MERGE	TOTAL_MERGE	414848454000
+MERGE	READ_WRITE	383460123000
+MERGE	READ_WRITE_COUNT	108
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	1171960374760
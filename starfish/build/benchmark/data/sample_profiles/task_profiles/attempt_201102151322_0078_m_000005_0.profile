@@ -0,0 +1,267 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt/part-00104	0
+MAP	STARTUP_MEM	214769384
+MAP	SETUP	601000
+MAP	SETUP_MEM	214769384
+SPILL	SORT_AND_SPILL	24169364000
+SPILL	QUICK_SORT	11676582000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	12146234000
+SPILL	WRITE	5705722000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12049336
+SPILL	COMPRESS_BYTE_COUNT	4753213
+SPILL	SORT_AND_SPILL	23543772533
+SPILL	QUICK_SORT	11792115533
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11691911000
+SPILL	WRITE	5645568000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11945655
+SPILL	COMPRESS_BYTE_COUNT	4747131
+SPILL	SORT_AND_SPILL	22582398000
+SPILL	QUICK_SORT	10873627000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11375817000
+SPILL	WRITE	5326285000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11688451
+SPILL	COMPRESS_BYTE_COUNT	4613820
+SPILL	SORT_AND_SPILL	23640327101
+SPILL	QUICK_SORT	12006451101
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11580135000
+SPILL	WRITE	5295971000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11649047
+SPILL	COMPRESS_BYTE_COUNT	4551964
+SPILL	SORT_AND_SPILL	24084838000
+SPILL	QUICK_SORT	11168463000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	11749744000
+SPILL	WRITE	5457681000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12001738
+SPILL	COMPRESS_BYTE_COUNT	4722242
+SPILL	SORT_AND_SPILL	22869891101
+SPILL	QUICK_SORT	11289430000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11524526101
+SPILL	WRITE	5453424000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11912762
+SPILL	COMPRESS_BYTE_COUNT	4693881
+SPILL	SORT_AND_SPILL	22558497000
+SPILL	QUICK_SORT	10715042000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11584878000
+SPILL	WRITE	5201691000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11717794
+SPILL	COMPRESS_BYTE_COUNT	4602144
+SPILL	SORT_AND_SPILL	22534707101
+SPILL	QUICK_SORT	10872546000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11604695101
+SPILL	WRITE	5501113101
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11941602
+SPILL	COMPRESS_BYTE_COUNT	4743525
+SPILL	SORT_AND_SPILL	23318935000
+SPILL	QUICK_SORT	11014744000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	12100326000
+SPILL	WRITE	5846962000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11883838
+SPILL	COMPRESS_BYTE_COUNT	4624355
+SPILL	SORT_AND_SPILL	26059698000
+SPILL	QUICK_SORT	9754130000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	14606428000
+SPILL	WRITE	6178421000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11847716
+SPILL	COMPRESS_BYTE_COUNT	4617563
+SPILL	SORT_AND_SPILL	23847927101
+SPILL	QUICK_SORT	9842644000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	13949483101
+SPILL	WRITE	6215157101
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11842080
+SPILL	COMPRESS_BYTE_COUNT	4657788
+SPILL	SORT_AND_SPILL	25208553000
+SPILL	QUICK_SORT	10155059000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	14858992000
+SPILL	WRITE	6970471000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11877710
+SPILL	COMPRESS_BYTE_COUNT	4664315
+SPILL	SORT_AND_SPILL	23373624000
+SPILL	QUICK_SORT	10308237000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	13010285000
+SPILL	WRITE	5898594000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11638020
+SPILL	COMPRESS_BYTE_COUNT	4560124
+SPILL	SORT_AND_SPILL	22421647000
+SPILL	QUICK_SORT	9877317000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	12222458000
+SPILL	WRITE	5755037000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11931935
+SPILL	COMPRESS_BYTE_COUNT	4653985
+SPILL	SORT_AND_SPILL	23347816000
+SPILL	QUICK_SORT	9864433000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	13428579000
+SPILL	WRITE	6148624000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11794982
+SPILL	COMPRESS_BYTE_COUNT	4623635
+SPILL	SORT_AND_SPILL	25736778102
+SPILL	QUICK_SORT	10038914000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	14144168000
+SPILL	WRITE	6435005000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12108947
+SPILL	COMPRESS_BYTE_COUNT	4784052
+SPILL	SORT_AND_SPILL	24077339000
+SPILL	QUICK_SORT	10408153000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	13614523000
+SPILL	WRITE	6035037000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11955231
+SPILL	COMPRESS_BYTE_COUNT	4614503
+SPILL	SORT_AND_SPILL	22136675253
+SPILL	QUICK_SORT	10070374253
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11918843000
+SPILL	WRITE	5668043000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12287674
+SPILL	COMPRESS_BYTE_COUNT	4850156
+SPILL	SORT_AND_SPILL	23329285000
+SPILL	QUICK_SORT	9894643000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	13376086000
+SPILL	WRITE	5782137000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12032552
+SPILL	COMPRESS_BYTE_COUNT	4747545
+SPILL	SORT_AND_SPILL	20091462949
+SPILL	QUICK_SORT	9129713949
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	10191639000
+SPILL	WRITE	4554581000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	10291875
+SPILL	COMPRESS_BYTE_COUNT	3930955
+SPILL	SORT_AND_SPILL	24747126000
+SPILL	QUICK_SORT	11273294000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	13415706000
+SPILL	WRITE	6138520000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11951776
+SPILL	COMPRESS_BYTE_COUNT	4696764
+SPILL	SORT_AND_SPILL	25951752101
+SPILL	QUICK_SORT	11242043101
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	14443005000
+SPILL	WRITE	6919405000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11952927
+SPILL	COMPRESS_BYTE_COUNT	4684698
+SPILL	SORT_AND_SPILL	22580722000
+SPILL	QUICK_SORT	9896735000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	12485513000
+SPILL	WRITE	5935383000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11629054
+SPILL	COMPRESS_BYTE_COUNT	4509651
+SPILL	SORT_AND_SPILL	24538449101
+SPILL	QUICK_SORT	9710431000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	14709117101
+SPILL	WRITE	6840945000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12072299
+SPILL	COMPRESS_BYTE_COUNT	4800644
+SPILL	SORT_AND_SPILL	26349959000
+SPILL	QUICK_SORT	9704554000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	15602574000
+SPILL	WRITE	6885729000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11750563
+SPILL	COMPRESS_BYTE_COUNT	4609830
+SPILL	SORT_AND_SPILL	21406574101
+SPILL	QUICK_SORT	9955043000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11327841101
+SPILL	WRITE	5451647101
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11530345
+SPILL	COMPRESS_BYTE_COUNT	4538046
+SPILL	SORT_AND_SPILL	21620762000
+SPILL	QUICK_SORT	9868805000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11691590000
+SPILL	WRITE	5586560000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11894952
+SPILL	COMPRESS_BYTE_COUNT	4703927
+SPILL	SORT_AND_SPILL	21935599101
+SPILL	QUICK_SORT	9484086000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11306827101
+SPILL	WRITE	5368486101
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11749239
+SPILL	COMPRESS_BYTE_COUNT	4608184
+SPILL	SORT_AND_SPILL	21797470000
+SPILL	QUICK_SORT	10198372000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11546101000
+SPILL	WRITE	5408151000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11746429
+SPILL	COMPRESS_BYTE_COUNT	4617642
+MAP	CLEANUP	48000
+MAP	CLEANUP_MEM	232360016
+MAP	TOTAL_RUN	834169384487
+MAP	READ	790046000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	131690
+MAP	VALUE_BYTE_COUNT	39756738
+MAP	MAP	833284391487
+MAP	WRITE	783187804193
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	44754426000
+MAP	SERIALIZE_OUTPUT	619650057193
+MAP	MAP_MEM	232362064
+SPILL	SORT_AND_SPILL	16530691000
+SPILL	QUICK_SORT	6999607000
+SPILL	SORT_COUNT	628083
+SPILL	COMBINE	9423919000
+SPILL	WRITE	4368445000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	8934899
+SPILL	COMPRESS_BYTE_COUNT	3532381
+MERGE	TOTAL_MERGE	395762955410
+MERGE	READ_WRITE	392981195410
+MERGE	READ_WRITE_COUNT	108
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	1246991394897
@@ -0,0 +1,267 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt/part-00101	0
+MAP	STARTUP_MEM	214811872
+MAP	SETUP	540000
+MAP	SETUP_MEM	214811872
+SPILL	SORT_AND_SPILL	27198105000
+SPILL	QUICK_SORT	16024312000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	10967609000
+SPILL	WRITE	5524283000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11902106
+SPILL	COMPRESS_BYTE_COUNT	4620802
+SPILL	SORT_AND_SPILL	26067193000
+SPILL	QUICK_SORT	13678954000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11557860000
+SPILL	WRITE	5695524000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11915690
+SPILL	COMPRESS_BYTE_COUNT	4666544
+SPILL	SORT_AND_SPILL	26387566000
+SPILL	QUICK_SORT	14980658000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11290281000
+SPILL	WRITE	5628210000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12155304
+SPILL	COMPRESS_BYTE_COUNT	4779778
+SPILL	SORT_AND_SPILL	26438529000
+SPILL	QUICK_SORT	15565395000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10725125000
+SPILL	WRITE	5421728000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11785230
+SPILL	COMPRESS_BYTE_COUNT	4615999
+SPILL	SORT_AND_SPILL	24862199000
+SPILL	QUICK_SORT	14081344000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	10635915000
+SPILL	WRITE	5322540000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11911364
+SPILL	COMPRESS_BYTE_COUNT	4640239
+SPILL	SORT_AND_SPILL	26145527000
+SPILL	QUICK_SORT	15058398000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11009866000
+SPILL	WRITE	5661699000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11892325
+SPILL	COMPRESS_BYTE_COUNT	4676610
+SPILL	SORT_AND_SPILL	26653797000
+SPILL	QUICK_SORT	14286919000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10798127000
+SPILL	WRITE	5643295000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11889185
+SPILL	COMPRESS_BYTE_COUNT	4643461
+SPILL	SORT_AND_SPILL	25674243000
+SPILL	QUICK_SORT	14759050000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10842749000
+SPILL	WRITE	5567028000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12081974
+SPILL	COMPRESS_BYTE_COUNT	4765744
+SPILL	SORT_AND_SPILL	23426961000
+SPILL	QUICK_SORT	13180071000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	9712230000
+SPILL	WRITE	4832188000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	10572894
+SPILL	COMPRESS_BYTE_COUNT	4048158
+SPILL	SORT_AND_SPILL	24849388000
+SPILL	QUICK_SORT	14091194000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	10690349000
+SPILL	WRITE	5394368000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11780839
+SPILL	COMPRESS_BYTE_COUNT	4587405
+SPILL	SORT_AND_SPILL	24426525000
+SPILL	QUICK_SORT	13620385000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10681092000
+SPILL	WRITE	5351115000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11959207
+SPILL	COMPRESS_BYTE_COUNT	4636735
+SPILL	SORT_AND_SPILL	25610816000
+SPILL	QUICK_SORT	14541920000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10994189000
+SPILL	WRITE	5543741000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12013469
+SPILL	COMPRESS_BYTE_COUNT	4760605
+SPILL	SORT_AND_SPILL	25755663000
+SPILL	QUICK_SORT	14313307000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10831127000
+SPILL	WRITE	5579928000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11760477
+SPILL	COMPRESS_BYTE_COUNT	4539499
+SPILL	SORT_AND_SPILL	24685453000
+SPILL	QUICK_SORT	13907872000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10708905000
+SPILL	WRITE	5293428000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11618765
+SPILL	COMPRESS_BYTE_COUNT	4533905
+SPILL	SORT_AND_SPILL	26626609000
+SPILL	QUICK_SORT	14456787000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	10655628000
+SPILL	WRITE	5275292000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11764470
+SPILL	COMPRESS_BYTE_COUNT	4613104
+SPILL	SORT_AND_SPILL	25631595000
+SPILL	QUICK_SORT	14537991000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10820405000
+SPILL	WRITE	5472783000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11799709
+SPILL	COMPRESS_BYTE_COUNT	4601136
+SPILL	SORT_AND_SPILL	24943183000
+SPILL	QUICK_SORT	13468861000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11386829000
+SPILL	WRITE	5887866000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12382476
+SPILL	COMPRESS_BYTE_COUNT	4936488
+SPILL	SORT_AND_SPILL	25231832000
+SPILL	QUICK_SORT	14396601000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10677494000
+SPILL	WRITE	5282643000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11420041
+SPILL	COMPRESS_BYTE_COUNT	4490661
+SPILL	SORT_AND_SPILL	26543667000
+SPILL	QUICK_SORT	13206984000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11782507000
+SPILL	WRITE	6013415000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12042173
+SPILL	COMPRESS_BYTE_COUNT	4721991
+SPILL	SORT_AND_SPILL	23852282000
+SPILL	QUICK_SORT	13009802000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	10769881000
+SPILL	WRITE	5399965000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11915084
+SPILL	COMPRESS_BYTE_COUNT	4683539
+SPILL	SORT_AND_SPILL	26022560000
+SPILL	QUICK_SORT	14479323000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11347481000
+SPILL	WRITE	5774282000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11462670
+SPILL	COMPRESS_BYTE_COUNT	4483510
+SPILL	SORT_AND_SPILL	25449607000
+SPILL	QUICK_SORT	13019955000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	12163392000
+SPILL	WRITE	6113735000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11807484
+SPILL	COMPRESS_BYTE_COUNT	4582529
+SPILL	SORT_AND_SPILL	23700939000
+SPILL	QUICK_SORT	12044688000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11578422000
+SPILL	WRITE	5610657000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12099649
+SPILL	COMPRESS_BYTE_COUNT	4765262
+SPILL	SORT_AND_SPILL	23940703000
+SPILL	QUICK_SORT	12794452000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10938098000
+SPILL	WRITE	5406363000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11848095
+SPILL	COMPRESS_BYTE_COUNT	4596985
+SPILL	SORT_AND_SPILL	23157494000
+SPILL	QUICK_SORT	11960351000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	11126047000
+SPILL	WRITE	5814269000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11923440
+SPILL	COMPRESS_BYTE_COUNT	4727812
+SPILL	SORT_AND_SPILL	23842234000
+SPILL	QUICK_SORT	11967328000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10812379000
+SPILL	WRITE	5389658000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11830362
+SPILL	COMPRESS_BYTE_COUNT	4688850
+SPILL	SORT_AND_SPILL	22657003000
+SPILL	QUICK_SORT	11641756000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10943022000
+SPILL	WRITE	5601872000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11933546
+SPILL	COMPRESS_BYTE_COUNT	4742529
+SPILL	SORT_AND_SPILL	23704424000
+SPILL	QUICK_SORT	12855434000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10717202000
+SPILL	WRITE	5421617000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11819922
+SPILL	COMPRESS_BYTE_COUNT	4649874
+SPILL	SORT_AND_SPILL	22358702000
+SPILL	QUICK_SORT	11565279000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10521954000
+SPILL	WRITE	5286715000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11882750
+SPILL	COMPRESS_BYTE_COUNT	4657605
+MAP	CLEANUP	115000
+MAP	CLEANUP_MEM	249179088
+MAP	TOTAL_RUN	850642599000
+MAP	READ	1666817000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	128434
+MAP	VALUE_BYTE_COUNT	39614618
+MAP	MAP	848876234000
+MAP	WRITE	799324972000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	34880900000
+MAP	SERIALIZE_OUTPUT	688005396000
+MAP	MAP_MEM	249179088
+SPILL	SORT_AND_SPILL	14710599000
+SPILL	QUICK_SORT	7617120000
+SPILL	SORT_COUNT	545489
+SPILL	COMBINE	6986171000
+SPILL	WRITE	3532124000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7827454
+SPILL	COMPRESS_BYTE_COUNT	3120932
+MERGE	TOTAL_MERGE	367900892297
+MERGE	READ_WRITE	365274928297
+MERGE	READ_WRITE_COUNT	108
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	1233887809297
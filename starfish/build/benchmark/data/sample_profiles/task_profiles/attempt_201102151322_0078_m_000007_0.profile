@@ -0,0 +1,267 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt/part-00103	0
+MAP	STARTUP_MEM	214810592
+MAP	SETUP	564000
+MAP	SETUP_MEM	214810592
+SPILL	SORT_AND_SPILL	24294531000
+SPILL	QUICK_SORT	13726751000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	10389721000
+SPILL	WRITE	5227103000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11799596
+SPILL	COMPRESS_BYTE_COUNT	4640011
+SPILL	SORT_AND_SPILL	24107767000
+SPILL	QUICK_SORT	12454413000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11585051000
+SPILL	WRITE	5860084000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11648876
+SPILL	COMPRESS_BYTE_COUNT	4475817
+SPILL	SORT_AND_SPILL	22853604000
+SPILL	QUICK_SORT	12122080000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10271803000
+SPILL	WRITE	5187973000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12065739
+SPILL	COMPRESS_BYTE_COUNT	4738106
+SPILL	SORT_AND_SPILL	26954491000
+SPILL	QUICK_SORT	12925911000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	13909337000
+SPILL	WRITE	7218050000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11791479
+SPILL	COMPRESS_BYTE_COUNT	4593681
+SPILL	SORT_AND_SPILL	23796495000
+SPILL	QUICK_SORT	12498035000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	11102356000
+SPILL	WRITE	5884131000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11479710
+SPILL	COMPRESS_BYTE_COUNT	4483853
+SPILL	SORT_AND_SPILL	23522764000
+SPILL	QUICK_SORT	11159394000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	12294238000
+SPILL	WRITE	6039015000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12182255
+SPILL	COMPRESS_BYTE_COUNT	4803353
+SPILL	SORT_AND_SPILL	22214092000
+SPILL	QUICK_SORT	11424991000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10468170000
+SPILL	WRITE	5287702000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11819445
+SPILL	COMPRESS_BYTE_COUNT	4588044
+SPILL	SORT_AND_SPILL	22034785000
+SPILL	QUICK_SORT	11504857000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10471594000
+SPILL	WRITE	5077805000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11583543
+SPILL	COMPRESS_BYTE_COUNT	4515595
+SPILL	SORT_AND_SPILL	22333899000
+SPILL	QUICK_SORT	10604424000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10402680000
+SPILL	WRITE	5439607000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12058499
+SPILL	COMPRESS_BYTE_COUNT	4733915
+SPILL	SORT_AND_SPILL	22266768000
+SPILL	QUICK_SORT	12209446000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	9999520000
+SPILL	WRITE	5046388000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11652237
+SPILL	COMPRESS_BYTE_COUNT	4551298
+SPILL	SORT_AND_SPILL	22102203000
+SPILL	QUICK_SORT	11943732000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10048205000
+SPILL	WRITE	5164264000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11670533
+SPILL	COMPRESS_BYTE_COUNT	4525246
+SPILL	SORT_AND_SPILL	22957971000
+SPILL	QUICK_SORT	12678703000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10189405000
+SPILL	WRITE	5132180000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11804839
+SPILL	COMPRESS_BYTE_COUNT	4593112
+SPILL	SORT_AND_SPILL	22891865000
+SPILL	QUICK_SORT	12004387000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10707687000
+SPILL	WRITE	5518076000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11782711
+SPILL	COMPRESS_BYTE_COUNT	4603913
+SPILL	SORT_AND_SPILL	23684016000
+SPILL	QUICK_SORT	12616831000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11001204000
+SPILL	WRITE	5406050000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12110083
+SPILL	COMPRESS_BYTE_COUNT	4734310
+SPILL	SORT_AND_SPILL	22686280000
+SPILL	QUICK_SORT	11975750000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	10071075000
+SPILL	WRITE	5182184000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11643780
+SPILL	COMPRESS_BYTE_COUNT	4505053
+SPILL	SORT_AND_SPILL	22728525000
+SPILL	QUICK_SORT	12633712000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10034447000
+SPILL	WRITE	5101287000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11628939
+SPILL	COMPRESS_BYTE_COUNT	4553225
+SPILL	SORT_AND_SPILL	23993327000
+SPILL	QUICK_SORT	11897974000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11623691000
+SPILL	WRITE	5937445000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12048310
+SPILL	COMPRESS_BYTE_COUNT	4727861
+SPILL	SORT_AND_SPILL	24306343000
+SPILL	QUICK_SORT	13142331000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11102243000
+SPILL	WRITE	5476175000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11968173
+SPILL	COMPRESS_BYTE_COUNT	4706124
+SPILL	SORT_AND_SPILL	23254214000
+SPILL	QUICK_SORT	11287066000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11336802000
+SPILL	WRITE	6240119000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11686254
+SPILL	COMPRESS_BYTE_COUNT	4556838
+SPILL	SORT_AND_SPILL	22338747000
+SPILL	QUICK_SORT	11944309000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	10334085000
+SPILL	WRITE	5250630000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11837473
+SPILL	COMPRESS_BYTE_COUNT	4638795
+SPILL	SORT_AND_SPILL	22694842000
+SPILL	QUICK_SORT	11266513000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10504491000
+SPILL	WRITE	5400770000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11954100
+SPILL	COMPRESS_BYTE_COUNT	4755539
+SPILL	SORT_AND_SPILL	23001498000
+SPILL	QUICK_SORT	11508259000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11432537000
+SPILL	WRITE	5359460000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12072682
+SPILL	COMPRESS_BYTE_COUNT	4823882
+SPILL	SORT_AND_SPILL	23718782000
+SPILL	QUICK_SORT	11547427000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11126666000
+SPILL	WRITE	6104526000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12158399
+SPILL	COMPRESS_BYTE_COUNT	4835090
+SPILL	SORT_AND_SPILL	23266134000
+SPILL	QUICK_SORT	12284005000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10920509000
+SPILL	WRITE	5536905000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11713735
+SPILL	COMPRESS_BYTE_COUNT	4583468
+SPILL	SORT_AND_SPILL	23423546000
+SPILL	QUICK_SORT	11203602000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	11601929000
+SPILL	WRITE	5597300000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11654590
+SPILL	COMPRESS_BYTE_COUNT	4603448
+SPILL	SORT_AND_SPILL	20691919000
+SPILL	QUICK_SORT	10219488000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10406312000
+SPILL	WRITE	5208563000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11934252
+SPILL	COMPRESS_BYTE_COUNT	4666261
+SPILL	SORT_AND_SPILL	23401035000
+SPILL	QUICK_SORT	11232457000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11818056000
+SPILL	WRITE	5533534000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11882027
+SPILL	COMPRESS_BYTE_COUNT	4615958
+SPILL	SORT_AND_SPILL	22619049000
+SPILL	QUICK_SORT	11543376000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11014005000
+SPILL	WRITE	5528156000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11909859
+SPILL	COMPRESS_BYTE_COUNT	4649666
+SPILL	SORT_AND_SPILL	21821244000
+SPILL	QUICK_SORT	10465177000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11236680000
+SPILL	WRITE	5729261000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11817184
+SPILL	COMPRESS_BYTE_COUNT	4658774
+MAP	CLEANUP	47000
+MAP	CLEANUP_MEM	221712944
+MAP	TOTAL_RUN	795946766780
+MAP	READ	739019000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	134516
+MAP	VALUE_BYTE_COUNT	39359432
+MAP	MAP	794993220780
+MAP	WRITE	735961177780
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	38079136000
+MAP	SERIALIZE_OUTPUT	596316737000
+MAP	MAP_MEM	221759192
+SPILL	SORT_AND_SPILL	8210448000
+SPILL	QUICK_SORT	3465639000
+SPILL	SORT_COUNT	335545
+SPILL	COMBINE	4704289000
+SPILL	WRITE	2484281000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	5129424
+SPILL	COMPRESS_BYTE_COUNT	1990025
+MERGE	TOTAL_MERGE	432091222000
+MERGE	READ_WRITE	418475967000
+MERGE	READ_WRITE_COUNT	108
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	1236706088780
@@ -0,0 +1,267 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt/part-00108	0
+MAP	STARTUP_MEM	213966328
+MAP	SETUP	514000
+MAP	SETUP_MEM	213966328
+SPILL	SORT_AND_SPILL	24443038289
+SPILL	QUICK_SORT	12517947289
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	11743713000
+SPILL	WRITE	5676035000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11837126
+SPILL	COMPRESS_BYTE_COUNT	4623060
+SPILL	SORT_AND_SPILL	22962079000
+SPILL	QUICK_SORT	11195388000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11591051000
+SPILL	WRITE	5755903000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11634262
+SPILL	COMPRESS_BYTE_COUNT	4589836
+SPILL	SORT_AND_SPILL	23566793578
+SPILL	QUICK_SORT	11373357000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11638634578
+SPILL	WRITE	5588538578
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11863442
+SPILL	COMPRESS_BYTE_COUNT	4600187
+SPILL	SORT_AND_SPILL	24190748000
+SPILL	QUICK_SORT	10682513000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	13453461000
+SPILL	WRITE	6131606000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11755872
+SPILL	COMPRESS_BYTE_COUNT	4565381
+SPILL	SORT_AND_SPILL	23080401577
+SPILL	QUICK_SORT	10789949000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	11316557577
+SPILL	WRITE	5537197577
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11676001
+SPILL	COMPRESS_BYTE_COUNT	4583416
+SPILL	SORT_AND_SPILL	22436847000
+SPILL	QUICK_SORT	9841598000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	12540093000
+SPILL	WRITE	6101381000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11661783
+SPILL	COMPRESS_BYTE_COUNT	4531180
+SPILL	SORT_AND_SPILL	22553576425
+SPILL	QUICK_SORT	10774950000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11632801425
+SPILL	WRITE	5549398425
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11505045
+SPILL	COMPRESS_BYTE_COUNT	4490506
+SPILL	SORT_AND_SPILL	24947998000
+SPILL	QUICK_SORT	13047698000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11838725000
+SPILL	WRITE	5621042000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12017702
+SPILL	COMPRESS_BYTE_COUNT	4727466
+SPILL	SORT_AND_SPILL	25232473730
+SPILL	QUICK_SORT	13491963000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11501683730
+SPILL	WRITE	5455918000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11591274
+SPILL	COMPRESS_BYTE_COUNT	4545315
+SPILL	SORT_AND_SPILL	24461518000
+SPILL	QUICK_SORT	12539416000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	11867773000
+SPILL	WRITE	5814729000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11782806
+SPILL	COMPRESS_BYTE_COUNT	4573387
+SPILL	SORT_AND_SPILL	23238288000
+SPILL	QUICK_SORT	10980927000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	12135986000
+SPILL	WRITE	5706364000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11993518
+SPILL	COMPRESS_BYTE_COUNT	4739673
+SPILL	SORT_AND_SPILL	23171472000
+SPILL	QUICK_SORT	11375788000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11674268000
+SPILL	WRITE	5587142000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11892854
+SPILL	COMPRESS_BYTE_COUNT	4680205
+SPILL	SORT_AND_SPILL	22345492000
+SPILL	QUICK_SORT	10315474000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11886648000
+SPILL	WRITE	5653585000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12003611
+SPILL	COMPRESS_BYTE_COUNT	4723398
+SPILL	SORT_AND_SPILL	22176315577
+SPILL	QUICK_SORT	10495519577
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11624238000
+SPILL	WRITE	5543345000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11483419
+SPILL	COMPRESS_BYTE_COUNT	4538487
+SPILL	SORT_AND_SPILL	23134560000
+SPILL	QUICK_SORT	10531050000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	12210903000
+SPILL	WRITE	5921870000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12229506
+SPILL	COMPRESS_BYTE_COUNT	4797176
+SPILL	SORT_AND_SPILL	25912253578
+SPILL	QUICK_SORT	10617957578
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	15231319000
+SPILL	WRITE	6752908000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11814506
+SPILL	COMPRESS_BYTE_COUNT	4723444
+SPILL	SORT_AND_SPILL	24325898000
+SPILL	QUICK_SORT	10339992000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	13860505000
+SPILL	WRITE	6773950000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11728372
+SPILL	COMPRESS_BYTE_COUNT	4561927
+SPILL	SORT_AND_SPILL	24142496577
+SPILL	QUICK_SORT	13212706577
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10867183000
+SPILL	WRITE	5346297000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	10898347
+SPILL	COMPRESS_BYTE_COUNT	4146628
+SPILL	SORT_AND_SPILL	22959883000
+SPILL	QUICK_SORT	10059227000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11692508000
+SPILL	WRITE	5501027000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11752336
+SPILL	COMPRESS_BYTE_COUNT	4611177
+SPILL	SORT_AND_SPILL	23832947578
+SPILL	QUICK_SORT	11488383578
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	12285468000
+SPILL	WRITE	5835598000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11924243
+SPILL	COMPRESS_BYTE_COUNT	4651382
+SPILL	SORT_AND_SPILL	22172619000
+SPILL	QUICK_SORT	10440201000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11499101000
+SPILL	WRITE	5538711000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11802683
+SPILL	COMPRESS_BYTE_COUNT	4587554
+SPILL	SORT_AND_SPILL	22116464577
+SPILL	QUICK_SORT	10463558000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11535127577
+SPILL	WRITE	5461203000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11878514
+SPILL	COMPRESS_BYTE_COUNT	4655367
+SPILL	SORT_AND_SPILL	21755849000
+SPILL	QUICK_SORT	9787068000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11851180000
+SPILL	WRITE	5818126000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11753158
+SPILL	COMPRESS_BYTE_COUNT	4586940
+SPILL	SORT_AND_SPILL	22307813000
+SPILL	QUICK_SORT	10554527000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11694637000
+SPILL	WRITE	5731701000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11759171
+SPILL	COMPRESS_BYTE_COUNT	4596984
+SPILL	SORT_AND_SPILL	26651138000
+SPILL	QUICK_SORT	11234758000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	15136040000
+SPILL	WRITE	6709514000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11649419
+SPILL	COMPRESS_BYTE_COUNT	4553402
+SPILL	SORT_AND_SPILL	26364039426
+SPILL	QUICK_SORT	10109775000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	15960102426
+SPILL	WRITE	5914887426
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11801848
+SPILL	COMPRESS_BYTE_COUNT	4608364
+SPILL	SORT_AND_SPILL	23012949000
+SPILL	QUICK_SORT	9914095000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	12853087000
+SPILL	WRITE	6297738000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11917770
+SPILL	COMPRESS_BYTE_COUNT	4684819
+SPILL	SORT_AND_SPILL	22233938000
+SPILL	QUICK_SORT	10396803000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11777971000
+SPILL	WRITE	5793552000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11936569
+SPILL	COMPRESS_BYTE_COUNT	4685798
+SPILL	SORT_AND_SPILL	23909824000
+SPILL	QUICK_SORT	11250902000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	12440829000
+SPILL	WRITE	6273872000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11769301
+SPILL	COMPRESS_BYTE_COUNT	4604903
+MAP	CLEANUP	96000
+MAP	CLEANUP_MEM	228184520
+MAP	TOTAL_RUN	822190519795
+MAP	READ	798215000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	130221
+MAP	VALUE_BYTE_COUNT	39282942
+MAP	MAP	821289917795
+MAP	WRITE	775231109218
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	36669709154
+MAP	SERIALIZE_OUTPUT	644570834335
+MAP	MAP_MEM	228184520
+SPILL	SORT_AND_SPILL	10591127000
+SPILL	QUICK_SORT	4489647000
+SPILL	SORT_COUNT	416191
+SPILL	COMBINE	6062944000
+SPILL	WRITE	2926109000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	6335793
+SPILL	COMPRESS_BYTE_COUNT	2546784
+MERGE	TOTAL_MERGE	478973411619
+MERGE	READ_WRITE	470398068619
+MERGE	READ_WRITE_COUNT	108
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	1312336591414
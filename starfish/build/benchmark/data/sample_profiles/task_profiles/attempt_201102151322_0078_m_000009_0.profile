@@ -0,0 +1,259 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt/part-00111	0
+MAP	STARTUP_MEM	214755616
+MAP	SETUP	808000
+MAP	SETUP_MEM	214755616
+SPILL	SORT_AND_SPILL	23707035000
+SPILL	QUICK_SORT	12690206000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	10850448000
+SPILL	WRITE	5555408000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11874405
+SPILL	COMPRESS_BYTE_COUNT	4648635
+SPILL	SORT_AND_SPILL	22476317000
+SPILL	QUICK_SORT	11902553000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10516616000
+SPILL	WRITE	5319918000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11772960
+SPILL	COMPRESS_BYTE_COUNT	4600836
+SPILL	SORT_AND_SPILL	21675205000
+SPILL	QUICK_SORT	9971040000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	9931569000
+SPILL	WRITE	5013220000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11127984
+SPILL	COMPRESS_BYTE_COUNT	4311349
+SPILL	SORT_AND_SPILL	23413692000
+SPILL	QUICK_SORT	12185888000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11169647000
+SPILL	WRITE	5531999000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11686915
+SPILL	COMPRESS_BYTE_COUNT	4680206
+SPILL	SORT_AND_SPILL	24161917000
+SPILL	QUICK_SORT	10307216000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	12562254000
+SPILL	WRITE	6030075000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11902073
+SPILL	COMPRESS_BYTE_COUNT	4634991
+SPILL	SORT_AND_SPILL	22218981000
+SPILL	QUICK_SORT	11163333000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10983986000
+SPILL	WRITE	5580614000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12110414
+SPILL	COMPRESS_BYTE_COUNT	4747694
+SPILL	SORT_AND_SPILL	22346929000
+SPILL	QUICK_SORT	11328351000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10907494000
+SPILL	WRITE	5855089000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11713479
+SPILL	COMPRESS_BYTE_COUNT	4592255
+SPILL	SORT_AND_SPILL	21798862000
+SPILL	QUICK_SORT	9897094000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11843416000
+SPILL	WRITE	6227880000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12068002
+SPILL	COMPRESS_BYTE_COUNT	4689454
+SPILL	SORT_AND_SPILL	21659594000
+SPILL	QUICK_SORT	11154176000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10145509000
+SPILL	WRITE	5114832000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11317014
+SPILL	COMPRESS_BYTE_COUNT	4434221
+SPILL	SORT_AND_SPILL	21383280000
+SPILL	QUICK_SORT	10333728000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	10995667000
+SPILL	WRITE	5612873000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11679728
+SPILL	COMPRESS_BYTE_COUNT	4578052
+SPILL	SORT_AND_SPILL	25274726000
+SPILL	QUICK_SORT	11004007000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	14126886000
+SPILL	WRITE	6956874000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11999264
+SPILL	COMPRESS_BYTE_COUNT	4712083
+SPILL	SORT_AND_SPILL	21469005000
+SPILL	QUICK_SORT	10348916000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11045180000
+SPILL	WRITE	5683297000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12398706
+SPILL	COMPRESS_BYTE_COUNT	4820597
+SPILL	SORT_AND_SPILL	22195270000
+SPILL	QUICK_SORT	10587653000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10903231000
+SPILL	WRITE	5434308000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12099394
+SPILL	COMPRESS_BYTE_COUNT	4761448
+SPILL	SORT_AND_SPILL	23265109000
+SPILL	QUICK_SORT	11221335000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11983807000
+SPILL	WRITE	5838293000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11886230
+SPILL	COMPRESS_BYTE_COUNT	4652386
+SPILL	SORT_AND_SPILL	21317662000
+SPILL	QUICK_SORT	10170046000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	10594636000
+SPILL	WRITE	5458067000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11786635
+SPILL	COMPRESS_BYTE_COUNT	4610636
+SPILL	SORT_AND_SPILL	21432016000
+SPILL	QUICK_SORT	9977431000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11396491000
+SPILL	WRITE	6045027000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11177751
+SPILL	COMPRESS_BYTE_COUNT	4376608
+SPILL	SORT_AND_SPILL	24118827000
+SPILL	QUICK_SORT	10601509000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	13392144000
+SPILL	WRITE	6611359000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12058844
+SPILL	COMPRESS_BYTE_COUNT	4726706
+SPILL	SORT_AND_SPILL	20489709000
+SPILL	QUICK_SORT	10033974000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10401035000
+SPILL	WRITE	5247594000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11191905
+SPILL	COMPRESS_BYTE_COUNT	4404519
+SPILL	SORT_AND_SPILL	22582459000
+SPILL	QUICK_SORT	11454955000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10977784000
+SPILL	WRITE	5720606000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11718722
+SPILL	COMPRESS_BYTE_COUNT	4614428
+SPILL	SORT_AND_SPILL	19802674000
+SPILL	QUICK_SORT	9918426000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	9834060000
+SPILL	WRITE	4977610000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11149784
+SPILL	COMPRESS_BYTE_COUNT	4417331
+SPILL	SORT_AND_SPILL	21872385000
+SPILL	QUICK_SORT	9701181000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11833117000
+SPILL	WRITE	6006736000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	10786137
+SPILL	COMPRESS_BYTE_COUNT	4245504
+SPILL	SORT_AND_SPILL	22403029000
+SPILL	QUICK_SORT	10335574000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	12013121000
+SPILL	WRITE	6467779000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11507152
+SPILL	COMPRESS_BYTE_COUNT	4543474
+SPILL	SORT_AND_SPILL	22321922000
+SPILL	QUICK_SORT	9818657000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11485419000
+SPILL	WRITE	5776983000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11772807
+SPILL	COMPRESS_BYTE_COUNT	4642062
+SPILL	SORT_AND_SPILL	21365721000
+SPILL	QUICK_SORT	10752195000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10558681000
+SPILL	WRITE	5426242000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11519932
+SPILL	COMPRESS_BYTE_COUNT	4530824
+SPILL	SORT_AND_SPILL	21867431000
+SPILL	QUICK_SORT	9758301000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	11197518000
+SPILL	WRITE	5559685000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11325243
+SPILL	COMPRESS_BYTE_COUNT	4429584
+SPILL	SORT_AND_SPILL	21180734000
+SPILL	QUICK_SORT	10475629000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10585056000
+SPILL	WRITE	5505420000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11849096
+SPILL	COMPRESS_BYTE_COUNT	4656324
+SPILL	SORT_AND_SPILL	23629030000
+SPILL	QUICK_SORT	10619881000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	12881487000
+SPILL	WRITE	6225686000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11474645
+SPILL	COMPRESS_BYTE_COUNT	4496955
+SPILL	SORT_AND_SPILL	21452352000
+SPILL	QUICK_SORT	10662585000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10731015000
+SPILL	WRITE	5509793000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11943489
+SPILL	COMPRESS_BYTE_COUNT	4733909
+MAP	CLEANUP	101000
+MAP	CLEANUP_MEM	231465112
+MAP	TOTAL_RUN	739366961000
+MAP	READ	782506000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	239797
+MAP	VALUE_BYTE_COUNT	38749181
+MAP	MAP	738346022000
+MAP	WRITE	696783752000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	24432220000
+MAP	SERIALIZE_OUTPUT	597808805000
+MAP	MAP_MEM	231465112
+SPILL	SORT_AND_SPILL	17010575000
+SPILL	QUICK_SORT	7993503000
+SPILL	SORT_COUNT	696954
+SPILL	COMBINE	8877513000
+SPILL	WRITE	4439882000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	10062371
+SPILL	COMPRESS_BYTE_COUNT	3956030
+MERGE	TOTAL_MERGE	335312386703
+MERGE	READ_WRITE	333157020703
+MERGE	READ_WRITE_COUNT	108
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	1092132140703
@@ -0,0 +1,259 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt/part-00110	0
+MAP	STARTUP_MEM	213944360
+MAP	SETUP	495000
+MAP	SETUP_MEM	213944360
+SPILL	SORT_AND_SPILL	22697053000
+SPILL	QUICK_SORT	12167687000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	10365587000
+SPILL	WRITE	5194963000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11310544
+SPILL	COMPRESS_BYTE_COUNT	4440833
+SPILL	SORT_AND_SPILL	22152105000
+SPILL	QUICK_SORT	11892777000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10207652000
+SPILL	WRITE	5124237000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11423450
+SPILL	COMPRESS_BYTE_COUNT	4430188
+SPILL	SORT_AND_SPILL	21371334000
+SPILL	QUICK_SORT	10753895000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10485192000
+SPILL	WRITE	5304180000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11945982
+SPILL	COMPRESS_BYTE_COUNT	4608578
+SPILL	SORT_AND_SPILL	22239070000
+SPILL	QUICK_SORT	11251336000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10925292000
+SPILL	WRITE	5536886000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11979462
+SPILL	COMPRESS_BYTE_COUNT	4714546
+SPILL	SORT_AND_SPILL	21330021000
+SPILL	QUICK_SORT	10426619000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	10772882000
+SPILL	WRITE	5454053000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11791061
+SPILL	COMPRESS_BYTE_COUNT	4579537
+SPILL	SORT_AND_SPILL	21691266000
+SPILL	QUICK_SORT	10913781000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10717802000
+SPILL	WRITE	5485998000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11889260
+SPILL	COMPRESS_BYTE_COUNT	4628574
+SPILL	SORT_AND_SPILL	21708974000
+SPILL	QUICK_SORT	10580134000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10714930000
+SPILL	WRITE	5519754000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11858718
+SPILL	COMPRESS_BYTE_COUNT	4631408
+SPILL	SORT_AND_SPILL	23250824000
+SPILL	QUICK_SORT	9741130000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	13395318000
+SPILL	WRITE	6461561000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11843011
+SPILL	COMPRESS_BYTE_COUNT	4645741
+SPILL	SORT_AND_SPILL	20316911000
+SPILL	QUICK_SORT	9792546000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10295206000
+SPILL	WRITE	5187288000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11732457
+SPILL	COMPRESS_BYTE_COUNT	4601539
+SPILL	SORT_AND_SPILL	20813037000
+SPILL	QUICK_SORT	10282212000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	10477416000
+SPILL	WRITE	5060875000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	9985220
+SPILL	COMPRESS_BYTE_COUNT	3824960
+SPILL	SORT_AND_SPILL	22713953000
+SPILL	QUICK_SORT	11030969000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11570120000
+SPILL	WRITE	5928901000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11857987
+SPILL	COMPRESS_BYTE_COUNT	4641642
+SPILL	SORT_AND_SPILL	23096820000
+SPILL	QUICK_SORT	10038935000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	13001384000
+SPILL	WRITE	6469523000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11360531
+SPILL	COMPRESS_BYTE_COUNT	4481961
+SPILL	SORT_AND_SPILL	23503876000
+SPILL	QUICK_SORT	10354472000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	12248574000
+SPILL	WRITE	5687865000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11177475
+SPILL	COMPRESS_BYTE_COUNT	4395652
+SPILL	SORT_AND_SPILL	22054756000
+SPILL	QUICK_SORT	11187584000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10803488000
+SPILL	WRITE	5544504000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11899401
+SPILL	COMPRESS_BYTE_COUNT	4696350
+SPILL	SORT_AND_SPILL	22021585000
+SPILL	QUICK_SORT	9910688000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	10908034000
+SPILL	WRITE	5592776000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11824706
+SPILL	COMPRESS_BYTE_COUNT	4675746
+SPILL	SORT_AND_SPILL	21349730000
+SPILL	QUICK_SORT	10516796000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10545264000
+SPILL	WRITE	5663197000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	10203690
+SPILL	COMPRESS_BYTE_COUNT	3915663
+SPILL	SORT_AND_SPILL	22139374000
+SPILL	QUICK_SORT	10122425000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11811793000
+SPILL	WRITE	5897003000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11080052
+SPILL	COMPRESS_BYTE_COUNT	4268300
+SPILL	SORT_AND_SPILL	19973108000
+SPILL	QUICK_SORT	9206486000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10713755000
+SPILL	WRITE	5197624000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	9736446
+SPILL	COMPRESS_BYTE_COUNT	3767141
+SPILL	SORT_AND_SPILL	19729275000
+SPILL	QUICK_SORT	10667087000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	8860730000
+SPILL	WRITE	4310528000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	9454409
+SPILL	COMPRESS_BYTE_COUNT	3649822
+SPILL	SORT_AND_SPILL	22185808000
+SPILL	QUICK_SORT	10909809000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	11209801000
+SPILL	WRITE	5502810000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	10925741
+SPILL	COMPRESS_BYTE_COUNT	4244262
+SPILL	SORT_AND_SPILL	21674866000
+SPILL	QUICK_SORT	10006296000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10401826000
+SPILL	WRITE	5316252000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11755576
+SPILL	COMPRESS_BYTE_COUNT	4567135
+SPILL	SORT_AND_SPILL	23038237000
+SPILL	QUICK_SORT	10524656000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	12450145000
+SPILL	WRITE	6353871000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11522465
+SPILL	COMPRESS_BYTE_COUNT	4502061
+SPILL	SORT_AND_SPILL	21558360000
+SPILL	QUICK_SORT	9807525000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10673466000
+SPILL	WRITE	5546538000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11893960
+SPILL	COMPRESS_BYTE_COUNT	4683790
+SPILL	SORT_AND_SPILL	20521644000
+SPILL	QUICK_SORT	10339430000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10129367000
+SPILL	WRITE	5136318000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11301237
+SPILL	COMPRESS_BYTE_COUNT	4500746
+SPILL	SORT_AND_SPILL	21542105000
+SPILL	QUICK_SORT	9517248000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	10680314000
+SPILL	WRITE	5256272000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	10535845
+SPILL	COMPRESS_BYTE_COUNT	4066774
+SPILL	SORT_AND_SPILL	22256341000
+SPILL	QUICK_SORT	10955803000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11247107000
+SPILL	WRITE	5592526000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11652249
+SPILL	COMPRESS_BYTE_COUNT	4538122
+SPILL	SORT_AND_SPILL	23123123000
+SPILL	QUICK_SORT	9822071000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	12312794000
+SPILL	WRITE	6470684000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11895167
+SPILL	COMPRESS_BYTE_COUNT	4639588
+SPILL	SORT_AND_SPILL	20507038000
+SPILL	QUICK_SORT	9799610000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10650280000
+SPILL	WRITE	5576696000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11918240
+SPILL	COMPRESS_BYTE_COUNT	4658279
+MAP	CLEANUP	102000
+MAP	CLEANUP_MEM	224947424
+MAP	TOTAL_RUN	721694856000
+MAP	READ	925136000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	139460
+MAP	VALUE_BYTE_COUNT	38052515
+MAP	MAP	720655537000
+MAP	WRITE	686277533000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	22420383000
+MAP	SERIALIZE_OUTPUT	585723769000
+MAP	MAP_MEM	225064016
+SPILL	SORT_AND_SPILL	13642462000
+SPILL	QUICK_SORT	6121913000
+SPILL	SORT_COUNT	522210
+SPILL	COMBINE	7395023000
+SPILL	WRITE	3972078000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7640112
+SPILL	COMPRESS_BYTE_COUNT	2977909
+MERGE	TOTAL_MERGE	316150121703
+MERGE	READ_WRITE	313772509703
+MERGE	READ_WRITE_COUNT	108
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	1051953784703
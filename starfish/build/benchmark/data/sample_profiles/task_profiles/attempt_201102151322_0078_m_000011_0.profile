@@ -0,0 +1,259 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt/part-00112	0
+MAP	STARTUP_MEM	214800000
+MAP	SETUP	539000
+MAP	SETUP_MEM	214800000
+SPILL	SORT_AND_SPILL	24984958000
+SPILL	QUICK_SORT	13872845000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	10834809000
+SPILL	WRITE	5575667000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11758394
+SPILL	COMPRESS_BYTE_COUNT	4613021
+SPILL	SORT_AND_SPILL	23186295000
+SPILL	QUICK_SORT	11899405000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10502579000
+SPILL	WRITE	5269188000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12032818
+SPILL	COMPRESS_BYTE_COUNT	4762037
+SPILL	SORT_AND_SPILL	23103603000
+SPILL	QUICK_SORT	12917503000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10124804000
+SPILL	WRITE	5307687000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11806802
+SPILL	COMPRESS_BYTE_COUNT	4592468
+SPILL	SORT_AND_SPILL	23073242000
+SPILL	QUICK_SORT	12573605000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10332132000
+SPILL	WRITE	5339131000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12143118
+SPILL	COMPRESS_BYTE_COUNT	4682949
+SPILL	SORT_AND_SPILL	22656529000
+SPILL	QUICK_SORT	12163052000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	10424479000
+SPILL	WRITE	5298808000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12114313
+SPILL	COMPRESS_BYTE_COUNT	4787338
+SPILL	SORT_AND_SPILL	22807420000
+SPILL	QUICK_SORT	10519435000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10962198000
+SPILL	WRITE	5345068000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11871494
+SPILL	COMPRESS_BYTE_COUNT	4677461
+SPILL	SORT_AND_SPILL	23968655000
+SPILL	QUICK_SORT	11055741000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	12843926000
+SPILL	WRITE	6816399000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11890281
+SPILL	COMPRESS_BYTE_COUNT	4629236
+SPILL	SORT_AND_SPILL	24988244000
+SPILL	QUICK_SORT	11537824000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	13253843000
+SPILL	WRITE	6748104000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11691219
+SPILL	COMPRESS_BYTE_COUNT	4592810
+SPILL	SORT_AND_SPILL	23711070000
+SPILL	QUICK_SORT	11907609000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11735667000
+SPILL	WRITE	6007636000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11838678
+SPILL	COMPRESS_BYTE_COUNT	4620650
+SPILL	SORT_AND_SPILL	23734119000
+SPILL	QUICK_SORT	13054300000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	10555502000
+SPILL	WRITE	5356936000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12045486
+SPILL	COMPRESS_BYTE_COUNT	4771705
+SPILL	SORT_AND_SPILL	23544461000
+SPILL	QUICK_SORT	13526406000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	9962912000
+SPILL	WRITE	5095289000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11308651
+SPILL	COMPRESS_BYTE_COUNT	4419995
+SPILL	SORT_AND_SPILL	23895078000
+SPILL	QUICK_SORT	12658423000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10350002000
+SPILL	WRITE	5231970000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11528284
+SPILL	COMPRESS_BYTE_COUNT	4553166
+SPILL	SORT_AND_SPILL	21956825000
+SPILL	QUICK_SORT	12052169000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	9848549000
+SPILL	WRITE	4983498000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11273821
+SPILL	COMPRESS_BYTE_COUNT	4444238
+SPILL	SORT_AND_SPILL	23447301000
+SPILL	QUICK_SORT	13314829000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	9752772000
+SPILL	WRITE	4984807000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11345347
+SPILL	COMPRESS_BYTE_COUNT	4456742
+SPILL	SORT_AND_SPILL	22277453000
+SPILL	QUICK_SORT	12151964000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	10063409000
+SPILL	WRITE	5061388000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11764430
+SPILL	COMPRESS_BYTE_COUNT	4618022
+SPILL	SORT_AND_SPILL	23197198000
+SPILL	QUICK_SORT	11261907000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11757585000
+SPILL	WRITE	6112674000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11807068
+SPILL	COMPRESS_BYTE_COUNT	4610621
+SPILL	SORT_AND_SPILL	23734351000
+SPILL	QUICK_SORT	12195399000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11481997000
+SPILL	WRITE	5447473000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11293288
+SPILL	COMPRESS_BYTE_COUNT	4419562
+SPILL	SORT_AND_SPILL	23553531000
+SPILL	QUICK_SORT	13182159000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10081682000
+SPILL	WRITE	5289765000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11825141
+SPILL	COMPRESS_BYTE_COUNT	4673228
+SPILL	SORT_AND_SPILL	21155832000
+SPILL	QUICK_SORT	11427102000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	9669660000
+SPILL	WRITE	4770152000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	10948594
+SPILL	COMPRESS_BYTE_COUNT	4228358
+SPILL	SORT_AND_SPILL	26001611000
+SPILL	QUICK_SORT	14426345000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	11453221000
+SPILL	WRITE	5780577000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11905238
+SPILL	COMPRESS_BYTE_COUNT	4629171
+SPILL	SORT_AND_SPILL	22248889000
+SPILL	QUICK_SORT	12124212000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10061116000
+SPILL	WRITE	5096909000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11411162
+SPILL	COMPRESS_BYTE_COUNT	4435534
+SPILL	SORT_AND_SPILL	22780710000
+SPILL	QUICK_SORT	12606564000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10065058000
+SPILL	WRITE	4832036000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	10968158
+SPILL	COMPRESS_BYTE_COUNT	4263479
+SPILL	SORT_AND_SPILL	22434484000
+SPILL	QUICK_SORT	11869948000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10497532000
+SPILL	WRITE	5477624000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12240385
+SPILL	COMPRESS_BYTE_COUNT	4839619
+SPILL	SORT_AND_SPILL	20849998780
+SPILL	QUICK_SORT	10788587780
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	9939889000
+SPILL	WRITE	5046120000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11639046
+SPILL	COMPRESS_BYTE_COUNT	4583490
+SPILL	SORT_AND_SPILL	23398435000
+SPILL	QUICK_SORT	12177996000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	11152985000
+SPILL	WRITE	5234464000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11808528
+SPILL	COMPRESS_BYTE_COUNT	4654366
+SPILL	SORT_AND_SPILL	21627245000
+SPILL	QUICK_SORT	10522914000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10953818000
+SPILL	WRITE	5896628000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12049282
+SPILL	COMPRESS_BYTE_COUNT	4699730
+SPILL	SORT_AND_SPILL	24290195000
+SPILL	QUICK_SORT	10587887000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	13636127000
+SPILL	WRITE	7729338000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11840378
+SPILL	COMPRESS_BYTE_COUNT	4635129
+MAP	CLEANUP	57000
+MAP	CLEANUP_MEM	273849184
+MAP	TOTAL_RUN	741142304780
+MAP	READ	2784544000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	129566
+MAP	VALUE_BYTE_COUNT	37655752
+MAP	MAP	738281537780
+MAP	WRITE	699888915780
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	38498356000
+MAP	SERIALIZE_OUTPUT	581864471000
+MAP	MAP_MEM	273943096
+SPILL	SORT_AND_SPILL	21091118000
+SPILL	QUICK_SORT	10737248000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10096818000
+SPILL	WRITE	5036815000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11862026
+SPILL	COMPRESS_BYTE_COUNT	4640390
+SPILL	SORT_AND_SPILL	2186253000
+SPILL	QUICK_SORT	800586000
+SPILL	SORT_COUNT	104870
+SPILL	COMBINE	1326977000
+SPILL	WRITE	652467000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	1659008
+SPILL	COMPRESS_BYTE_COUNT	630360
+MERGE	TOTAL_MERGE	391170096000
+MERGE	READ_WRITE	386676686000
+MERGE	READ_WRITE_COUNT	108
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	1154015349780
@@ -0,0 +1,251 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt/part-00113	0
+MAP	STARTUP_MEM	214825640
+MAP	SETUP	557000
+MAP	SETUP_MEM	214825640
+SPILL	SORT_AND_SPILL	24330057289
+SPILL	QUICK_SORT	11818552289
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	12202007000
+SPILL	WRITE	5697995000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12131473
+SPILL	COMPRESS_BYTE_COUNT	4820290
+SPILL	SORT_AND_SPILL	24868056000
+SPILL	QUICK_SORT	12809908000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11989196000
+SPILL	WRITE	5925327000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12191867
+SPILL	COMPRESS_BYTE_COUNT	4767798
+SPILL	SORT_AND_SPILL	23917458578
+SPILL	QUICK_SORT	11228367578
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	12247422000
+SPILL	WRITE	5772344000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11561997
+SPILL	COMPRESS_BYTE_COUNT	4535419
+SPILL	SORT_AND_SPILL	24149468000
+SPILL	QUICK_SORT	11976039000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	12114933000
+SPILL	WRITE	5538399000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11736118
+SPILL	COMPRESS_BYTE_COUNT	4671058
+SPILL	SORT_AND_SPILL	23208691577
+SPILL	QUICK_SORT	11233767000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	11678975577
+SPILL	WRITE	5702950577
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11952341
+SPILL	COMPRESS_BYTE_COUNT	4656251
+SPILL	SORT_AND_SPILL	23519580000
+SPILL	QUICK_SORT	10641132000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	12818864000
+SPILL	WRITE	5929089000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11967030
+SPILL	COMPRESS_BYTE_COUNT	4721021
+SPILL	SORT_AND_SPILL	23615580425
+SPILL	QUICK_SORT	11681241000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11677838425
+SPILL	WRITE	5617797000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11664585
+SPILL	COMPRESS_BYTE_COUNT	4607720
+SPILL	SORT_AND_SPILL	22300110000
+SPILL	QUICK_SORT	10473689000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11768546000
+SPILL	WRITE	5508587000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11935060
+SPILL	COMPRESS_BYTE_COUNT	4696886
+SPILL	SORT_AND_SPILL	22686750730
+SPILL	QUICK_SORT	10639985000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11916129730
+SPILL	WRITE	5618542730
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11870750
+SPILL	COMPRESS_BYTE_COUNT	4651912
+SPILL	SORT_AND_SPILL	22970264000
+SPILL	QUICK_SORT	11026458000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	11884872000
+SPILL	WRITE	5785507000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11911107
+SPILL	COMPRESS_BYTE_COUNT	4669737
+SPILL	SORT_AND_SPILL	23785952577
+SPILL	QUICK_SORT	11627559000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11867977577
+SPILL	WRITE	5748619577
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11993024
+SPILL	COMPRESS_BYTE_COUNT	4760680
+SPILL	SORT_AND_SPILL	23549155000
+SPILL	QUICK_SORT	11894739000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11596357000
+SPILL	WRITE	5608991000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11882987
+SPILL	COMPRESS_BYTE_COUNT	4623848
+SPILL	SORT_AND_SPILL	24667116577
+SPILL	QUICK_SORT	10178768000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	12770805577
+SPILL	WRITE	6445278000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11653324
+SPILL	COMPRESS_BYTE_COUNT	4543941
+SPILL	SORT_AND_SPILL	24168139000
+SPILL	QUICK_SORT	11700839000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	12411864000
+SPILL	WRITE	5761095000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11668142
+SPILL	COMPRESS_BYTE_COUNT	4540456
+SPILL	SORT_AND_SPILL	23601574578
+SPILL	QUICK_SORT	9959666000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	12059666578
+SPILL	WRITE	5665788578
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11515744
+SPILL	COMPRESS_BYTE_COUNT	4522148
+SPILL	SORT_AND_SPILL	21660552000
+SPILL	QUICK_SORT	9380212000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	12231015000
+SPILL	WRITE	5755080000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11130873
+SPILL	COMPRESS_BYTE_COUNT	4409323
+SPILL	SORT_AND_SPILL	19621590000
+SPILL	QUICK_SORT	8658810000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10437703000
+SPILL	WRITE	4932588000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	10024646
+SPILL	COMPRESS_BYTE_COUNT	3914435
+SPILL	SORT_AND_SPILL	21617027577
+SPILL	QUICK_SORT	11181024577
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10376114000
+SPILL	WRITE	5008700000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	10405777
+SPILL	COMPRESS_BYTE_COUNT	4079323
+SPILL	SORT_AND_SPILL	24903721000
+SPILL	QUICK_SORT	11911178000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	12690714000
+SPILL	WRITE	6190867000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11980268
+SPILL	COMPRESS_BYTE_COUNT	4724728
+SPILL	SORT_AND_SPILL	18257315578
+SPILL	QUICK_SORT	9104675578
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	9092949000
+SPILL	WRITE	4114773000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	8916583
+SPILL	COMPRESS_BYTE_COUNT	3470363
+SPILL	SORT_AND_SPILL	24116046000
+SPILL	QUICK_SORT	10888365000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11660667000
+SPILL	WRITE	5435015000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11949090
+SPILL	COMPRESS_BYTE_COUNT	4689915
+SPILL	SORT_AND_SPILL	23722068577
+SPILL	QUICK_SORT	11288996577
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	12363872000
+SPILL	WRITE	5810803000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11446967
+SPILL	COMPRESS_BYTE_COUNT	4501743
+SPILL	SORT_AND_SPILL	21793280000
+SPILL	QUICK_SORT	10199680000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11301713000
+SPILL	WRITE	5342375000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	9889508
+SPILL	COMPRESS_BYTE_COUNT	3909844
+SPILL	SORT_AND_SPILL	23307029577
+SPILL	QUICK_SORT	11494805000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11754873577
+SPILL	WRITE	5526936000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11806080
+SPILL	COMPRESS_BYTE_COUNT	4648290
+SPILL	SORT_AND_SPILL	22749218000
+SPILL	QUICK_SORT	9945460000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	12633057000
+SPILL	WRITE	5725832000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11899452
+SPILL	COMPRESS_BYTE_COUNT	4715125
+SPILL	SORT_AND_SPILL	27978067426
+SPILL	QUICK_SORT	13600169000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	14332154426
+SPILL	WRITE	6499179426
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	10905482
+SPILL	COMPRESS_BYTE_COUNT	4287314
+SPILL	SORT_AND_SPILL	24670873000
+SPILL	QUICK_SORT	10196897000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	13854119000
+SPILL	WRITE	6454213000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11442766
+SPILL	COMPRESS_BYTE_COUNT	4473188
+MAP	CLEANUP	118000
+MAP	CLEANUP_MEM	213457144
+MAP	TOTAL_RUN	780883537066
+MAP	READ	934313000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	119637
+MAP	VALUE_BYTE_COUNT	37005233
+MAP	MAP	779661207066
+MAP	WRITE	728765089488
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	41361508000
+MAP	SERIALIZE_OUTPUT	566053950911
+MAP	MAP_MEM	213457144
+SPILL	SORT_AND_SPILL	11696332000
+SPILL	QUICK_SORT	4969193000
+SPILL	SORT_COUNT	526695
+SPILL	COMBINE	6686092000
+SPILL	WRITE	3007777000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	6348302
+SPILL	COMPRESS_BYTE_COUNT	2482965
+MERGE	TOTAL_MERGE	382202862194
+MERGE	READ_WRITE	377070317194
+MERGE	READ_WRITE_COUNT	81
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	1175351522260
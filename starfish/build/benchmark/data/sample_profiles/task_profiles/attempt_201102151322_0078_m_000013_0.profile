@@ -0,0 +1,251 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt/part-00107	0
+MAP	STARTUP_MEM	213915704
+MAP	SETUP	466000
+MAP	SETUP_MEM	213915704
+SPILL	SORT_AND_SPILL	21954869000
+SPILL	QUICK_SORT	11449688000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	10216325000
+SPILL	WRITE	5310011000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11276200
+SPILL	COMPRESS_BYTE_COUNT	4450136
+SPILL	SORT_AND_SPILL	20136476000
+SPILL	QUICK_SORT	10014711000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10070415000
+SPILL	WRITE	5166294000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11452122
+SPILL	COMPRESS_BYTE_COUNT	4497040
+SPILL	SORT_AND_SPILL	22053371000
+SPILL	QUICK_SORT	9730775000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11468947000
+SPILL	WRITE	5727838000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11179746
+SPILL	COMPRESS_BYTE_COUNT	4374270
+SPILL	SORT_AND_SPILL	21696921000
+SPILL	QUICK_SORT	9897912000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11731910000
+SPILL	WRITE	5344668000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11054789
+SPILL	COMPRESS_BYTE_COUNT	4271691
+SPILL	SORT_AND_SPILL	21383580000
+SPILL	QUICK_SORT	10024003000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	10240117000
+SPILL	WRITE	5172362000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11768568
+SPILL	COMPRESS_BYTE_COUNT	4622593
+SPILL	SORT_AND_SPILL	20079363000
+SPILL	QUICK_SORT	10272985000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	9760965000
+SPILL	WRITE	4905186000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	10996773
+SPILL	COMPRESS_BYTE_COUNT	4336354
+SPILL	SORT_AND_SPILL	22319693000
+SPILL	QUICK_SORT	9880215000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11464672000
+SPILL	WRITE	5810618000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11914708
+SPILL	COMPRESS_BYTE_COUNT	4648985
+SPILL	SORT_AND_SPILL	21244747000
+SPILL	QUICK_SORT	10931644000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10249496000
+SPILL	WRITE	5304690000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11875962
+SPILL	COMPRESS_BYTE_COUNT	4664710
+SPILL	SORT_AND_SPILL	20594976946
+SPILL	QUICK_SORT	9505865946
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10398593000
+SPILL	WRITE	5476604000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12081586
+SPILL	COMPRESS_BYTE_COUNT	4715847
+SPILL	SORT_AND_SPILL	20833832000
+SPILL	QUICK_SORT	9905595000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	10871460000
+SPILL	WRITE	5655890000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12036130
+SPILL	COMPRESS_BYTE_COUNT	4655549
+SPILL	SORT_AND_SPILL	21576313000
+SPILL	QUICK_SORT	10050167000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11401858000
+SPILL	WRITE	6020167000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11666832
+SPILL	COMPRESS_BYTE_COUNT	4543523
+SPILL	SORT_AND_SPILL	20694950000
+SPILL	QUICK_SORT	9142110000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11497029000
+SPILL	WRITE	5568040000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	10136147
+SPILL	COMPRESS_BYTE_COUNT	3924351
+SPILL	SORT_AND_SPILL	22046117000
+SPILL	QUICK_SORT	9778551000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11590021000
+SPILL	WRITE	5966575000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11571378
+SPILL	COMPRESS_BYTE_COUNT	4481179
+SPILL	SORT_AND_SPILL	22439030000
+SPILL	QUICK_SORT	11279701000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10969494000
+SPILL	WRITE	5527358000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11852166
+SPILL	COMPRESS_BYTE_COUNT	4641331
+SPILL	SORT_AND_SPILL	23397762000
+SPILL	QUICK_SORT	11269090000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	11998721000
+SPILL	WRITE	6107227000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11932179
+SPILL	COMPRESS_BYTE_COUNT	4627258
+SPILL	SORT_AND_SPILL	20685571000
+SPILL	QUICK_SORT	9823329000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10801404000
+SPILL	WRITE	5695356000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12000161
+SPILL	COMPRESS_BYTE_COUNT	4689490
+SPILL	SORT_AND_SPILL	21988473000
+SPILL	QUICK_SORT	11456272000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10384395000
+SPILL	WRITE	5397577000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11735812
+SPILL	COMPRESS_BYTE_COUNT	4562242
+SPILL	SORT_AND_SPILL	21829542000
+SPILL	QUICK_SORT	11354518000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10421478000
+SPILL	WRITE	5328559000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11911464
+SPILL	COMPRESS_BYTE_COUNT	4613958
+SPILL	SORT_AND_SPILL	21914705000
+SPILL	QUICK_SORT	11394166000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10379973000
+SPILL	WRITE	5364164000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11892159
+SPILL	COMPRESS_BYTE_COUNT	4648948
+SPILL	SORT_AND_SPILL	22292227000
+SPILL	QUICK_SORT	10917457000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	11324622000
+SPILL	WRITE	5706603000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11583779
+SPILL	COMPRESS_BYTE_COUNT	4524335
+SPILL	SORT_AND_SPILL	23524986000
+SPILL	QUICK_SORT	10652162000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	12092845000
+SPILL	WRITE	6055102000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11745743
+SPILL	COMPRESS_BYTE_COUNT	4589096
+SPILL	SORT_AND_SPILL	22099443000
+SPILL	QUICK_SORT	10880929000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11161583000
+SPILL	WRITE	5698456000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11874407
+SPILL	COMPRESS_BYTE_COUNT	4644578
+SPILL	SORT_AND_SPILL	21826642000
+SPILL	QUICK_SORT	11057972000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10629948000
+SPILL	WRITE	5492478000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11935799
+SPILL	COMPRESS_BYTE_COUNT	4659591
+SPILL	SORT_AND_SPILL	21096935000
+SPILL	QUICK_SORT	9775407000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11265494000
+SPILL	WRITE	6191360000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11922790
+SPILL	COMPRESS_BYTE_COUNT	4648290
+SPILL	SORT_AND_SPILL	21490103000
+SPILL	QUICK_SORT	10696409000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	10453361000
+SPILL	WRITE	5370177000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11792853
+SPILL	COMPRESS_BYTE_COUNT	4633139
+SPILL	SORT_AND_SPILL	21686845000
+SPILL	QUICK_SORT	11099991000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10531345000
+SPILL	WRITE	5378451000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11950065
+SPILL	COMPRESS_BYTE_COUNT	4671129
+SPILL	SORT_AND_SPILL	20340682000
+SPILL	QUICK_SORT	9668120000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10522838000
+SPILL	WRITE	5323196000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11957758
+SPILL	COMPRESS_BYTE_COUNT	4657409
+MAP	CLEANUP	104000
+MAP	CLEANUP_MEM	271113896
+MAP	TOTAL_RUN	690269609065
+MAP	READ	627889000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	117119
+MAP	VALUE_BYTE_COUNT	36844307
+MAP	MAP	689567195065
+MAP	WRITE	651730751946
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	20818022000
+MAP	SERIALIZE_OUTPUT	553145357946
+MAP	MAP_MEM	271113896
+SPILL	SORT_AND_SPILL	13756633000
+SPILL	QUICK_SORT	6405750000
+SPILL	SORT_COUNT	572921
+SPILL	COMBINE	7287762000
+SPILL	WRITE	3880734000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	8397498
+SPILL	COMPRESS_BYTE_COUNT	3316685
+MERGE	TOTAL_MERGE	284707062000
+MERGE	READ_WRITE	283308511000
+MERGE	READ_WRITE_COUNT	81
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	989156306065
@@ -0,0 +1,251 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt/part-00118	0
+MAP	STARTUP_MEM	214811080
+MAP	SETUP	521000
+MAP	SETUP_MEM	214811080
+SPILL	SORT_AND_SPILL	23437190000
+SPILL	QUICK_SORT	12515952000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	10684731000
+SPILL	WRITE	5471466000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11861121
+SPILL	COMPRESS_BYTE_COUNT	4683707
+SPILL	SORT_AND_SPILL	21643573000
+SPILL	QUICK_SORT	11518617000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10071215000
+SPILL	WRITE	5434904000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11544579
+SPILL	COMPRESS_BYTE_COUNT	4549590
+SPILL	SORT_AND_SPILL	22136633000
+SPILL	QUICK_SORT	10484253000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10199687000
+SPILL	WRITE	5288015000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11581659
+SPILL	COMPRESS_BYTE_COUNT	4510104
+SPILL	SORT_AND_SPILL	22340761000
+SPILL	QUICK_SORT	11742299000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10538564000
+SPILL	WRITE	5398334000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12157717
+SPILL	COMPRESS_BYTE_COUNT	4792980
+SPILL	SORT_AND_SPILL	21751499000
+SPILL	QUICK_SORT	10162115000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	10214483000
+SPILL	WRITE	5258738000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11622161
+SPILL	COMPRESS_BYTE_COUNT	4553418
+SPILL	SORT_AND_SPILL	21708183450
+SPILL	QUICK_SORT	11430522000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10217198450
+SPILL	WRITE	5326424450
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11798516
+SPILL	COMPRESS_BYTE_COUNT	4599065
+SPILL	SORT_AND_SPILL	23175639000
+SPILL	QUICK_SORT	12157999000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10679348000
+SPILL	WRITE	5610799000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12222920
+SPILL	COMPRESS_BYTE_COUNT	4851073
+SPILL	SORT_AND_SPILL	19879099000
+SPILL	QUICK_SORT	9808043000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10022929000
+SPILL	WRITE	5146278000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11388284
+SPILL	COMPRESS_BYTE_COUNT	4411772
+SPILL	SORT_AND_SPILL	22647385000
+SPILL	QUICK_SORT	11402837000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10289979000
+SPILL	WRITE	5261010000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11884748
+SPILL	COMPRESS_BYTE_COUNT	4675475
+SPILL	SORT_AND_SPILL	22239807000
+SPILL	QUICK_SORT	11111594000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	11071988000
+SPILL	WRITE	5642945000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11833086
+SPILL	COMPRESS_BYTE_COUNT	4676834
+SPILL	SORT_AND_SPILL	22704777000
+SPILL	QUICK_SORT	11502145000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11047621000
+SPILL	WRITE	5489643000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11920443
+SPILL	COMPRESS_BYTE_COUNT	4641944
+SPILL	SORT_AND_SPILL	21235372000
+SPILL	QUICK_SORT	10776591000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10403492000
+SPILL	WRITE	5440882000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11730252
+SPILL	COMPRESS_BYTE_COUNT	4600701
+SPILL	SORT_AND_SPILL	21669219000
+SPILL	QUICK_SORT	10187576000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10845061000
+SPILL	WRITE	5318748000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11567569
+SPILL	COMPRESS_BYTE_COUNT	4528009
+SPILL	SORT_AND_SPILL	21491493000
+SPILL	QUICK_SORT	11149739000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10288992000
+SPILL	WRITE	5321516000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11814043
+SPILL	COMPRESS_BYTE_COUNT	4602960
+SPILL	SORT_AND_SPILL	21345195000
+SPILL	QUICK_SORT	9739490000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	10244622000
+SPILL	WRITE	5182811000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11546562
+SPILL	COMPRESS_BYTE_COUNT	4514999
+SPILL	SORT_AND_SPILL	22355642000
+SPILL	QUICK_SORT	11090028000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11214230000
+SPILL	WRITE	5999097000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11710020
+SPILL	COMPRESS_BYTE_COUNT	4561910
+SPILL	SORT_AND_SPILL	21057844000
+SPILL	QUICK_SORT	9564107000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10185317000
+SPILL	WRITE	5220799000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11565990
+SPILL	COMPRESS_BYTE_COUNT	4534920
+SPILL	SORT_AND_SPILL	20804652000
+SPILL	QUICK_SORT	10703187000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10051564000
+SPILL	WRITE	5287062000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11526662
+SPILL	COMPRESS_BYTE_COUNT	4526301
+SPILL	SORT_AND_SPILL	21240019000
+SPILL	QUICK_SORT	10847076000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10259607000
+SPILL	WRITE	5287287000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11664724
+SPILL	COMPRESS_BYTE_COUNT	4610272
+SPILL	SORT_AND_SPILL	23079413000
+SPILL	QUICK_SORT	11138591000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	11885411000
+SPILL	WRITE	5940051000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11740526
+SPILL	COMPRESS_BYTE_COUNT	4658931
+SPILL	SORT_AND_SPILL	21406102000
+SPILL	QUICK_SORT	9845732000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10483793000
+SPILL	WRITE	5499003000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11772711
+SPILL	COMPRESS_BYTE_COUNT	4619332
+SPILL	SORT_AND_SPILL	21858529000
+SPILL	QUICK_SORT	11123295000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10675510000
+SPILL	WRITE	5588290000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11930276
+SPILL	COMPRESS_BYTE_COUNT	4699646
+SPILL	SORT_AND_SPILL	20831400000
+SPILL	QUICK_SORT	9887139000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	9947698000
+SPILL	WRITE	5110818000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	10304166
+SPILL	COMPRESS_BYTE_COUNT	4112743
+SPILL	SORT_AND_SPILL	20582809000
+SPILL	QUICK_SORT	10908135000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	9629932000
+SPILL	WRITE	4880426000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	10820809
+SPILL	COMPRESS_BYTE_COUNT	4317024
+SPILL	SORT_AND_SPILL	21214342000
+SPILL	QUICK_SORT	10368920000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	10284277000
+SPILL	WRITE	5211492000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11205561
+SPILL	COMPRESS_BYTE_COUNT	4428431
+SPILL	SORT_AND_SPILL	20019152000
+SPILL	QUICK_SORT	9122931000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10832192000
+SPILL	WRITE	5497548000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	10650242
+SPILL	COMPRESS_BYTE_COUNT	4198415
+MAP	CLEANUP	109000
+MAP	CLEANUP_MEM	229856968
+MAP	TOTAL_RUN	686352387450
+MAP	READ	2648131000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	159127
+MAP	VALUE_BYTE_COUNT	36585099
+MAP	MAP	683609573450
+MAP	WRITE	650020544450
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	32515145000
+MAP	SERIALIZE_OUTPUT	545995439450
+MAP	MAP_MEM	229856968
+SPILL	SORT_AND_SPILL	20292436000
+SPILL	QUICK_SORT	9502769000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	9932294000
+SPILL	WRITE	5015749000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	10839961
+SPILL	COMPRESS_BYTE_COUNT	4283303
+SPILL	SORT_AND_SPILL	4581321000
+SPILL	QUICK_SORT	1926537000
+SPILL	SORT_COUNT	207121
+SPILL	COMBINE	2625419000
+SPILL	WRITE	1405234000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	3137880
+SPILL	COMPRESS_BYTE_COUNT	1218604
+MERGE	TOTAL_MERGE	282995282896
+MERGE	READ_WRITE	281868426896
+MERGE	READ_WRITE_COUNT	81
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	988255350346
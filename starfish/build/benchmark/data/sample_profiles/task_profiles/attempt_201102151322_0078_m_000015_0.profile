@@ -0,0 +1,243 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt/part-00117	0
+MAP	STARTUP_MEM	214780432
+MAP	SETUP	735000
+MAP	SETUP_MEM	214780432
+SPILL	SORT_AND_SPILL	23921286000
+SPILL	QUICK_SORT	12074322000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	11043717000
+SPILL	WRITE	5040458000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11001586
+SPILL	COMPRESS_BYTE_COUNT	4315944
+SPILL	SORT_AND_SPILL	23143710533
+SPILL	QUICK_SORT	11513605533
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11542072000
+SPILL	WRITE	5546900000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11527881
+SPILL	COMPRESS_BYTE_COUNT	4531212
+SPILL	SORT_AND_SPILL	23491901000
+SPILL	QUICK_SORT	11619586000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11737717000
+SPILL	WRITE	5617170000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11833879
+SPILL	COMPRESS_BYTE_COUNT	4681855
+SPILL	SORT_AND_SPILL	23458048101
+SPILL	QUICK_SORT	11786887000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11616492101
+SPILL	WRITE	5356466000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11785601
+SPILL	COMPRESS_BYTE_COUNT	4605519
+SPILL	SORT_AND_SPILL	23034252000
+SPILL	QUICK_SORT	10871363000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	12013634000
+SPILL	WRITE	5756703000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12101538
+SPILL	COMPRESS_BYTE_COUNT	4779989
+SPILL	SORT_AND_SPILL	24140678101
+SPILL	QUICK_SORT	11887330000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	12139624101
+SPILL	WRITE	5864412101
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11840152
+SPILL	COMPRESS_BYTE_COUNT	4599785
+SPILL	SORT_AND_SPILL	21971709000
+SPILL	QUICK_SORT	10101660000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11521887000
+SPILL	WRITE	5200898000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11279802
+SPILL	COMPRESS_BYTE_COUNT	4141679
+SPILL	SORT_AND_SPILL	22487783101
+SPILL	QUICK_SORT	9857060000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	12582913101
+SPILL	WRITE	6171260101
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11041960
+SPILL	COMPRESS_BYTE_COUNT	4385491
+SPILL	SORT_AND_SPILL	23031171000
+SPILL	QUICK_SORT	11262822000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11368862000
+SPILL	WRITE	5445493000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	10760826
+SPILL	COMPRESS_BYTE_COUNT	4240103
+SPILL	SORT_AND_SPILL	22371784741
+SPILL	QUICK_SORT	9824097741
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	12486609000
+SPILL	WRITE	5681888000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	10477070
+SPILL	COMPRESS_BYTE_COUNT	4125140
+SPILL	SORT_AND_SPILL	24058317000
+SPILL	QUICK_SORT	9749016000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	14168847000
+SPILL	WRITE	6677136000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11289182
+SPILL	COMPRESS_BYTE_COUNT	4502740
+SPILL	SORT_AND_SPILL	22932774101
+SPILL	QUICK_SORT	9928149101
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	12946678000
+SPILL	WRITE	5954919000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	10722561
+SPILL	COMPRESS_BYTE_COUNT	4187007
+SPILL	SORT_AND_SPILL	23493035000
+SPILL	QUICK_SORT	10054281000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	13303269000
+SPILL	WRITE	6507065000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11988487
+SPILL	COMPRESS_BYTE_COUNT	4689215
+SPILL	SORT_AND_SPILL	26061094101
+SPILL	QUICK_SORT	11170782101
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	14835883000
+SPILL	WRITE	6869609000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11656819
+SPILL	COMPRESS_BYTE_COUNT	4558754
+SPILL	SORT_AND_SPILL	24531615000
+SPILL	QUICK_SORT	9627321000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	14022667000
+SPILL	WRITE	6131527000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	10666255
+SPILL	COMPRESS_BYTE_COUNT	4183719
+SPILL	SORT_AND_SPILL	19496674102
+SPILL	QUICK_SORT	9325400000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10109661102
+SPILL	WRITE	4708103102
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	10268146
+SPILL	COMPRESS_BYTE_COUNT	4087224
+SPILL	SORT_AND_SPILL	23284405000
+SPILL	QUICK_SORT	9556686000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	13538340000
+SPILL	WRITE	6204071000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11010440
+SPILL	COMPRESS_BYTE_COUNT	4331077
+SPILL	SORT_AND_SPILL	23930441253
+SPILL	QUICK_SORT	10550211000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	13331159253
+SPILL	WRITE	5957873000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11496847
+SPILL	COMPRESS_BYTE_COUNT	4481234
+SPILL	SORT_AND_SPILL	26277946000
+SPILL	QUICK_SORT	10205323000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	14738180000
+SPILL	WRITE	6712232000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12029662
+SPILL	COMPRESS_BYTE_COUNT	4719399
+SPILL	SORT_AND_SPILL	23563030949
+SPILL	QUICK_SORT	9992255000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	13519044949
+SPILL	WRITE	5688360949
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11646064
+SPILL	COMPRESS_BYTE_COUNT	4512117
+SPILL	SORT_AND_SPILL	23052491000
+SPILL	QUICK_SORT	11279048000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11496924000
+SPILL	WRITE	5487121000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11925333
+SPILL	COMPRESS_BYTE_COUNT	4632824
+SPILL	SORT_AND_SPILL	21117858000
+SPILL	QUICK_SORT	9662490000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11401167000
+SPILL	WRITE	5515255000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11578296
+SPILL	COMPRESS_BYTE_COUNT	4567396
+SPILL	SORT_AND_SPILL	23043476000
+SPILL	QUICK_SORT	9454117000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	13388556000
+SPILL	WRITE	5842803000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	10705419
+SPILL	COMPRESS_BYTE_COUNT	4296659
+SPILL	SORT_AND_SPILL	22973462000
+SPILL	QUICK_SORT	9366443000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	13519810000
+SPILL	WRITE	6484424000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11046677
+SPILL	COMPRESS_BYTE_COUNT	4359785
+SPILL	SORT_AND_SPILL	24521119000
+SPILL	QUICK_SORT	9770397000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	14599409000
+SPILL	WRITE	6632665000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11783156
+SPILL	COMPRESS_BYTE_COUNT	4604609
+SPILL	SORT_AND_SPILL	26202137000
+SPILL	QUICK_SORT	9896312000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	16252644000
+SPILL	WRITE	8238921000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11761969
+SPILL	COMPRESS_BYTE_COUNT	4573302
+MAP	CLEANUP	100000
+MAP	CLEANUP_MEM	226344208
+MAP	TOTAL_RUN	741067407285
+MAP	READ	720002000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	170978
+MAP	VALUE_BYTE_COUNT	36056709
+MAP	MAP	740230249285
+MAP	WRITE	699762691184
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	29426733000
+MAP	SERIALIZE_OUTPUT	580832204083
+MAP	MAP_MEM	226344208
+SPILL	SORT_AND_SPILL	12117440101
+SPILL	QUICK_SORT	5283025101
+SPILL	SORT_COUNT	491800
+SPILL	COMBINE	6706606000
+SPILL	WRITE	3106730000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	6858541
+SPILL	COMPRESS_BYTE_COUNT	2666356
+MERGE	TOTAL_MERGE	335573293505
+MERGE	READ_WRITE	332035362505
+MERGE	READ_WRITE_COUNT	81
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	1090016319891
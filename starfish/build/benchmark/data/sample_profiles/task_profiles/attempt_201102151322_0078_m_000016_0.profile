@@ -0,0 +1,243 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt/part-00115	0
+MAP	STARTUP_MEM	214806008
+MAP	SETUP	553000
+MAP	SETUP_MEM	214806008
+SPILL	SORT_AND_SPILL	22715646000
+SPILL	QUICK_SORT	11897878000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	10651015000
+SPILL	WRITE	5414337000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12059446
+SPILL	COMPRESS_BYTE_COUNT	4723320
+SPILL	SORT_AND_SPILL	22837001000
+SPILL	QUICK_SORT	11209109000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11570058000
+SPILL	WRITE	5344715000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11853878
+SPILL	COMPRESS_BYTE_COUNT	4699529
+SPILL	SORT_AND_SPILL	20386450000
+SPILL	QUICK_SORT	9587530000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10308813000
+SPILL	WRITE	5257577000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11858390
+SPILL	COMPRESS_BYTE_COUNT	4641079
+SPILL	SORT_AND_SPILL	18291520000
+SPILL	QUICK_SORT	9093248000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	9142486000
+SPILL	WRITE	4500654000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	10209097
+SPILL	COMPRESS_BYTE_COUNT	4017521
+SPILL	SORT_AND_SPILL	17710127000
+SPILL	QUICK_SORT	7953747000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	8427920000
+SPILL	WRITE	4243951000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	9293733
+SPILL	COMPRESS_BYTE_COUNT	3649474
+SPILL	SORT_AND_SPILL	23452118000
+SPILL	QUICK_SORT	12946683000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10442684000
+SPILL	WRITE	5362592000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11757043
+SPILL	COMPRESS_BYTE_COUNT	4616957
+SPILL	SORT_AND_SPILL	20668464000
+SPILL	QUICK_SORT	9587067000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10279267000
+SPILL	WRITE	5279106000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11856849
+SPILL	COMPRESS_BYTE_COUNT	4642748
+SPILL	SORT_AND_SPILL	21286155000
+SPILL	QUICK_SORT	11000790000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10234775000
+SPILL	WRITE	5282109000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11732712
+SPILL	COMPRESS_BYTE_COUNT	4569993
+SPILL	SORT_AND_SPILL	21545042065
+SPILL	QUICK_SORT	10845886946
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10374876119
+SPILL	WRITE	5289913119
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11828536
+SPILL	COMPRESS_BYTE_COUNT	4634698
+SPILL	SORT_AND_SPILL	22682977000
+SPILL	QUICK_SORT	10918940000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	11709690000
+SPILL	WRITE	6219014000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11914833
+SPILL	COMPRESS_BYTE_COUNT	4645225
+SPILL	SORT_AND_SPILL	21265969000
+SPILL	QUICK_SORT	9556233000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11373297000
+SPILL	WRITE	5896825000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11684942
+SPILL	COMPRESS_BYTE_COUNT	4555431
+SPILL	SORT_AND_SPILL	20068715000
+SPILL	QUICK_SORT	9444486000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10555690000
+SPILL	WRITE	5336866000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	10277470
+SPILL	COMPRESS_BYTE_COUNT	4028944
+SPILL	SORT_AND_SPILL	21304144000
+SPILL	QUICK_SORT	10190510000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10323448000
+SPILL	WRITE	5406862000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11654916
+SPILL	COMPRESS_BYTE_COUNT	4636441
+SPILL	SORT_AND_SPILL	20107785000
+SPILL	QUICK_SORT	9863196000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10193113000
+SPILL	WRITE	5269154000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11608484
+SPILL	COMPRESS_BYTE_COUNT	4555388
+SPILL	SORT_AND_SPILL	20439339000
+SPILL	QUICK_SORT	9402237000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	9770307000
+SPILL	WRITE	5001390000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11169917
+SPILL	COMPRESS_BYTE_COUNT	4418813
+SPILL	SORT_AND_SPILL	20369063000
+SPILL	QUICK_SORT	10929690000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	9377270000
+SPILL	WRITE	4687223000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	10482507
+SPILL	COMPRESS_BYTE_COUNT	4122765
+SPILL	SORT_AND_SPILL	19809156000
+SPILL	QUICK_SORT	10755112000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	8938098000
+SPILL	WRITE	4515766000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	9933246
+SPILL	COMPRESS_BYTE_COUNT	3947664
+SPILL	SORT_AND_SPILL	20706900000
+SPILL	QUICK_SORT	10997388000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	9664817000
+SPILL	WRITE	4941799000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	10812517
+SPILL	COMPRESS_BYTE_COUNT	4279506
+SPILL	SORT_AND_SPILL	20218772000
+SPILL	QUICK_SORT	10807345000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	9255625000
+SPILL	WRITE	4705701000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	10344533
+SPILL	COMPRESS_BYTE_COUNT	4060902
+SPILL	SORT_AND_SPILL	19350549000
+SPILL	QUICK_SORT	9165833000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	10118656000
+SPILL	WRITE	5709816000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	10923254
+SPILL	COMPRESS_BYTE_COUNT	4353326
+SPILL	SORT_AND_SPILL	22271936000
+SPILL	QUICK_SORT	10789425000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11129001000
+SPILL	WRITE	5638383000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	9949012
+SPILL	COMPRESS_BYTE_COUNT	3926639
+SPILL	SORT_AND_SPILL	12511719000
+SPILL	QUICK_SORT	6164683000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	6295176000
+SPILL	WRITE	2767741000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	5998814
+SPILL	COMPRESS_BYTE_COUNT	2338745
+SPILL	SORT_AND_SPILL	19365787000
+SPILL	QUICK_SORT	9586924000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	9085015000
+SPILL	WRITE	4475764000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	9937322
+SPILL	COMPRESS_BYTE_COUNT	3890758
+SPILL	SORT_AND_SPILL	19239574000
+SPILL	QUICK_SORT	9744614000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	9443413000
+SPILL	WRITE	4780445000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	10661376
+SPILL	COMPRESS_BYTE_COUNT	4212118
+SPILL	SORT_AND_SPILL	18612016000
+SPILL	QUICK_SORT	9988916000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	8499801000
+SPILL	WRITE	4144117000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	9454683
+SPILL	COMPRESS_BYTE_COUNT	3727047
+SPILL	SORT_AND_SPILL	20253922000
+SPILL	QUICK_SORT	10911785000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	9282867000
+SPILL	WRITE	4663351000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	10446578
+SPILL	COMPRESS_BYTE_COUNT	4122816
+MAP	CLEANUP	110000
+MAP	CLEANUP_MEM	223708016
+MAP	TOTAL_RUN	642783034065
+MAP	READ	706304000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	176300
+MAP	VALUE_BYTE_COUNT	35951117
+MAP	MAP	641981953065
+MAP	WRITE	604876928065
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	36374757000
+MAP	SERIALIZE_OUTPUT	487116519065
+MAP	MAP_MEM	223708016
+SPILL	SORT_AND_SPILL	10810090000
+SPILL	QUICK_SORT	5079215000
+SPILL	SORT_COUNT	475622
+SPILL	COMBINE	5573503000
+SPILL	WRITE	2856286000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	6070118
+SPILL	COMPRESS_BYTE_COUNT	2385643
+MERGE	TOTAL_MERGE	257917953000
+MERGE	READ_WRITE	256917708000
+MERGE	READ_WRITE_COUNT	81
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	911949145065
@@ -0,0 +1,235 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt/part-00116	0
+MAP	STARTUP_MEM	213926992
+MAP	SETUP	487000
+MAP	SETUP_MEM	213926992
+SPILL	SORT_AND_SPILL	25783907000
+SPILL	QUICK_SORT	13302605000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	11194143000
+SPILL	WRITE	5205732000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	10854290
+SPILL	COMPRESS_BYTE_COUNT	4258954
+SPILL	SORT_AND_SPILL	24088551364
+SPILL	QUICK_SORT	12704683000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11328912364
+SPILL	WRITE	5321203364
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11189234
+SPILL	COMPRESS_BYTE_COUNT	4394576
+SPILL	SORT_AND_SPILL	22823830000
+SPILL	QUICK_SORT	11727487000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10466857000
+SPILL	WRITE	4903089000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	10244753
+SPILL	COMPRESS_BYTE_COUNT	4030356
+SPILL	SORT_AND_SPILL	23059539756
+SPILL	QUICK_SORT	12176103000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10820935756
+SPILL	WRITE	5204313756
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	10269960
+SPILL	COMPRESS_BYTE_COUNT	4008624
+SPILL	SORT_AND_SPILL	22509802000
+SPILL	QUICK_SORT	11438620000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	10932198000
+SPILL	WRITE	5260443000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	10867819
+SPILL	COMPRESS_BYTE_COUNT	4289186
+SPILL	SORT_AND_SPILL	19892184000
+SPILL	QUICK_SORT	9097953000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10736563000
+SPILL	WRITE	5092303000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	9482172
+SPILL	COMPRESS_BYTE_COUNT	3740480
+SPILL	SORT_AND_SPILL	24245503756
+SPILL	QUICK_SORT	10746457756
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	13352953000
+SPILL	WRITE	6099121000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	10634166
+SPILL	COMPRESS_BYTE_COUNT	4179412
+SPILL	SORT_AND_SPILL	21604284000
+SPILL	QUICK_SORT	10217827000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11329556000
+SPILL	WRITE	4914476000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11229389
+SPILL	COMPRESS_BYTE_COUNT	4383317
+SPILL	SORT_AND_SPILL	20167369756
+SPILL	QUICK_SORT	9776401756
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10183062000
+SPILL	WRITE	4752051000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	9871821
+SPILL	COMPRESS_BYTE_COUNT	3902930
+SPILL	SORT_AND_SPILL	21087963000
+SPILL	QUICK_SORT	10832257000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	10196479000
+SPILL	WRITE	4844709000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	9905382
+SPILL	COMPRESS_BYTE_COUNT	3880287
+SPILL	SORT_AND_SPILL	24551445756
+SPILL	QUICK_SORT	11911969000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	12462232756
+SPILL	WRITE	5397718000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	10547094
+SPILL	COMPRESS_BYTE_COUNT	4162908
+SPILL	SORT_AND_SPILL	25221586000
+SPILL	QUICK_SORT	10986621000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	13568031000
+SPILL	WRITE	6756788000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11265186
+SPILL	COMPRESS_BYTE_COUNT	4465736
+SPILL	SORT_AND_SPILL	23309090907
+SPILL	QUICK_SORT	10278761000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	12973188907
+SPILL	WRITE	5791262000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	10780878
+SPILL	COMPRESS_BYTE_COUNT	4232562
+SPILL	SORT_AND_SPILL	22517993000
+SPILL	QUICK_SORT	9764534000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	12253634000
+SPILL	WRITE	5582377000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	10436528
+SPILL	COMPRESS_BYTE_COUNT	4109971
+SPILL	SORT_AND_SPILL	21972999604
+SPILL	QUICK_SORT	10517688000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	11325362604
+SPILL	WRITE	5570242604
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11549209
+SPILL	COMPRESS_BYTE_COUNT	4527345
+SPILL	SORT_AND_SPILL	23847498000
+SPILL	QUICK_SORT	11785427000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11455922000
+SPILL	WRITE	5604299000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11546846
+SPILL	COMPRESS_BYTE_COUNT	4581119
+SPILL	SORT_AND_SPILL	23049044756
+SPILL	QUICK_SORT	11633522000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11359146756
+SPILL	WRITE	5460808756
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11292230
+SPILL	COMPRESS_BYTE_COUNT	4449702
+SPILL	SORT_AND_SPILL	24495331000
+SPILL	QUICK_SORT	12087329000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	12223118000
+SPILL	WRITE	5974595000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11648343
+SPILL	COMPRESS_BYTE_COUNT	4568401
+SPILL	SORT_AND_SPILL	21801129756
+SPILL	QUICK_SORT	10547705000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10947282756
+SPILL	WRITE	5160201000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11017232
+SPILL	COMPRESS_BYTE_COUNT	4320312
+SPILL	SORT_AND_SPILL	23168597000
+SPILL	QUICK_SORT	11545716000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	11564622000
+SPILL	WRITE	5733291000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11696911
+SPILL	COMPRESS_BYTE_COUNT	4603704
+SPILL	SORT_AND_SPILL	23897399756
+SPILL	QUICK_SORT	11952416000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11377296756
+SPILL	WRITE	5557925756
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11093916
+SPILL	COMPRESS_BYTE_COUNT	4338943
+SPILL	SORT_AND_SPILL	22926029000
+SPILL	QUICK_SORT	12100603000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10759804000
+SPILL	WRITE	5298528000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	10397052
+SPILL	COMPRESS_BYTE_COUNT	4061939
+SPILL	SORT_AND_SPILL	24407151908
+SPILL	QUICK_SORT	12127233000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11666522908
+SPILL	WRITE	5625123908
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11531543
+SPILL	COMPRESS_BYTE_COUNT	4539010
+SPILL	SORT_AND_SPILL	23087452000
+SPILL	QUICK_SORT	11445714000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11580920000
+SPILL	WRITE	5688843000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11672223
+SPILL	COMPRESS_BYTE_COUNT	4618598
+SPILL	SORT_AND_SPILL	22425379604
+SPILL	QUICK_SORT	10362322000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	11736666604
+SPILL	WRITE	5730675604
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11609538
+SPILL	COMPRESS_BYTE_COUNT	4548470
+MAP	CLEANUP	104000
+MAP	CLEANUP_MEM	235556824
+MAP	TOTAL_RUN	719213304679
+MAP	READ	1043393000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	226573
+MAP	VALUE_BYTE_COUNT	35345678
+MAP	MAP	718014950679
+MAP	WRITE	665848174679
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	30891415000
+MAP	SERIALIZE_OUTPUT	506371545923
+MAP	MAP_MEM	235556824
+SPILL	SORT_AND_SPILL	19910376000
+SPILL	QUICK_SORT	8885233000
+SPILL	SORT_COUNT	688671
+SPILL	COMBINE	10853878000
+SPILL	WRITE	5683949000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	9794403
+SPILL	COMPRESS_BYTE_COUNT	3873441
+MERGE	TOTAL_MERGE	256802667023
+MERGE	READ_WRITE	255651116023
+MERGE	READ_WRITE_COUNT	81
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	996371036702
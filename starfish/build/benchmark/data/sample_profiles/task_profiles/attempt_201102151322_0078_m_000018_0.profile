@@ -0,0 +1,235 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt/part-00126	0
+MAP	STARTUP_MEM	213907064
+MAP	SETUP	491000
+MAP	SETUP_MEM	213907064
+SPILL	SORT_AND_SPILL	24966356000
+SPILL	QUICK_SORT	13177761000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	10280037000
+SPILL	WRITE	5162236000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	10956210
+SPILL	COMPRESS_BYTE_COUNT	4266809
+SPILL	SORT_AND_SPILL	22532230000
+SPILL	QUICK_SORT	11997109000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10472084000
+SPILL	WRITE	5480746000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11739092
+SPILL	COMPRESS_BYTE_COUNT	4616163
+SPILL	SORT_AND_SPILL	21506505000
+SPILL	QUICK_SORT	11777919000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	9567484000
+SPILL	WRITE	4863143000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	10722292
+SPILL	COMPRESS_BYTE_COUNT	4226940
+SPILL	SORT_AND_SPILL	24665134000
+SPILL	QUICK_SORT	13484292000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11117896000
+SPILL	WRITE	5750110000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11536784
+SPILL	COMPRESS_BYTE_COUNT	4563480
+SPILL	SORT_AND_SPILL	23614661000
+SPILL	QUICK_SORT	11429273000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	11871292000
+SPILL	WRITE	5652539000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11537203
+SPILL	COMPRESS_BYTE_COUNT	4502340
+SPILL	SORT_AND_SPILL	21576879000
+SPILL	QUICK_SORT	10686027000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10822147000
+SPILL	WRITE	5598294000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11895047
+SPILL	COMPRESS_BYTE_COUNT	4690553
+SPILL	SORT_AND_SPILL	23725879000
+SPILL	QUICK_SORT	10414000000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11923899000
+SPILL	WRITE	6299238000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11888920
+SPILL	COMPRESS_BYTE_COUNT	4701485
+SPILL	SORT_AND_SPILL	22300873000
+SPILL	QUICK_SORT	11220445000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11013686000
+SPILL	WRITE	5560435000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11876874
+SPILL	COMPRESS_BYTE_COUNT	4671511
+SPILL	SORT_AND_SPILL	22129916000
+SPILL	QUICK_SORT	11002589000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10907318000
+SPILL	WRITE	5266241000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	10760856
+SPILL	COMPRESS_BYTE_COUNT	4208468
+SPILL	SORT_AND_SPILL	22477727000
+SPILL	QUICK_SORT	10536262000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	11884989000
+SPILL	WRITE	5938095000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11196341
+SPILL	COMPRESS_BYTE_COUNT	4387919
+SPILL	SORT_AND_SPILL	27583036000
+SPILL	QUICK_SORT	11014734000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	15595444000
+SPILL	WRITE	8346162000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11902999
+SPILL	COMPRESS_BYTE_COUNT	4654919
+SPILL	SORT_AND_SPILL	23325097000
+SPILL	QUICK_SORT	11675417000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10858520000
+SPILL	WRITE	5678795000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11892602
+SPILL	COMPRESS_BYTE_COUNT	4613108
+SPILL	SORT_AND_SPILL	20988228000
+SPILL	QUICK_SORT	10478925000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10424031000
+SPILL	WRITE	5340035000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11680302
+SPILL	COMPRESS_BYTE_COUNT	4570170
+SPILL	SORT_AND_SPILL	23632187000
+SPILL	QUICK_SORT	10378901000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	13084276000
+SPILL	WRITE	7061811000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11049271
+SPILL	COMPRESS_BYTE_COUNT	4339085
+SPILL	SORT_AND_SPILL	22310824000
+SPILL	QUICK_SORT	10000794000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	12249494000
+SPILL	WRITE	6208873000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11225149
+SPILL	COMPRESS_BYTE_COUNT	4429533
+SPILL	SORT_AND_SPILL	21493239000
+SPILL	QUICK_SORT	10236245000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11138060000
+SPILL	WRITE	5568579000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11419843
+SPILL	COMPRESS_BYTE_COUNT	4485889
+SPILL	SORT_AND_SPILL	21814509000
+SPILL	QUICK_SORT	10508128000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11246986000
+SPILL	WRITE	5298427000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11212724
+SPILL	COMPRESS_BYTE_COUNT	4373359
+SPILL	SORT_AND_SPILL	21742584000
+SPILL	QUICK_SORT	10092493000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10321784000
+SPILL	WRITE	5287398000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11494373
+SPILL	COMPRESS_BYTE_COUNT	4516871
+SPILL	SORT_AND_SPILL	22857688000
+SPILL	QUICK_SORT	11532805000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11265858000
+SPILL	WRITE	5277886000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11227661
+SPILL	COMPRESS_BYTE_COUNT	4385365
+SPILL	SORT_AND_SPILL	22223419000
+SPILL	QUICK_SORT	10067012000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	10790617000
+SPILL	WRITE	5627004000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11973096
+SPILL	COMPRESS_BYTE_COUNT	4675510
+SPILL	SORT_AND_SPILL	25039815000
+SPILL	QUICK_SORT	10469655000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	14504250000
+SPILL	WRITE	7019033000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11663452
+SPILL	COMPRESS_BYTE_COUNT	4585595
+SPILL	SORT_AND_SPILL	23513284000
+SPILL	QUICK_SORT	10431178000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10921348000
+SPILL	WRITE	5723257000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11838839
+SPILL	COMPRESS_BYTE_COUNT	4628253
+SPILL	SORT_AND_SPILL	22401960000
+SPILL	QUICK_SORT	10852315000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11466400000
+SPILL	WRITE	5537578000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11648154
+SPILL	COMPRESS_BYTE_COUNT	4511913
+SPILL	SORT_AND_SPILL	21882972000
+SPILL	QUICK_SORT	10185791000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10555212000
+SPILL	WRITE	5492285000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11907253
+SPILL	COMPRESS_BYTE_COUNT	4701663
+SPILL	SORT_AND_SPILL	20267789000
+SPILL	QUICK_SORT	9955194000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	10259955000
+SPILL	WRITE	5231363000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11306348
+SPILL	COMPRESS_BYTE_COUNT	4387780
+MAP	CLEANUP	104000
+MAP	CLEANUP_MEM	217542400
+MAP	TOTAL_RUN	672408293000
+MAP	READ	815104000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	120764
+MAP	VALUE_BYTE_COUNT	33770819
+MAP	MAP	671516476000
+MAP	WRITE	637444574000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	21586175000
+MAP	SERIALIZE_OUTPUT	526687104000
+MAP	MAP_MEM	217542400
+SPILL	SORT_AND_SPILL	4918984000
+SPILL	QUICK_SORT	2167446000
+SPILL	SORT_COUNT	234815
+SPILL	COMBINE	2659711000
+SPILL	WRITE	1265527000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	2796574
+SPILL	COMPRESS_BYTE_COUNT	1041996
+MERGE	TOTAL_MERGE	259989958000
+MERGE	READ_WRITE	258121683000
+MERGE	READ_WRITE_COUNT	81
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	937814807000
@@ -0,0 +1,227 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt/part-00122	0
+MAP	STARTUP_MEM	213927016
+MAP	SETUP	640000
+MAP	SETUP_MEM	213927016
+SPILL	SORT_AND_SPILL	25028459000
+SPILL	QUICK_SORT	11668589000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	12847853000
+SPILL	WRITE	6442826000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12066456
+SPILL	COMPRESS_BYTE_COUNT	4712328
+SPILL	SORT_AND_SPILL	24052359364
+SPILL	QUICK_SORT	12274947000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11719036364
+SPILL	WRITE	5731963364
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11511975
+SPILL	COMPRESS_BYTE_COUNT	4462285
+SPILL	SORT_AND_SPILL	24888900000
+SPILL	QUICK_SORT	12318566000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	12133084000
+SPILL	WRITE	5913845000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11847655
+SPILL	COMPRESS_BYTE_COUNT	4669461
+SPILL	SORT_AND_SPILL	25095837756
+SPILL	QUICK_SORT	13118343000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11915690756
+SPILL	WRITE	5746028756
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11836047
+SPILL	COMPRESS_BYTE_COUNT	4598944
+SPILL	SORT_AND_SPILL	23833581000
+SPILL	QUICK_SORT	11924869000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	11580613000
+SPILL	WRITE	5715025000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11790615
+SPILL	COMPRESS_BYTE_COUNT	4699396
+SPILL	SORT_AND_SPILL	24687659756
+SPILL	QUICK_SORT	11240513000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	13064912756
+SPILL	WRITE	5914494000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11950160
+SPILL	COMPRESS_BYTE_COUNT	4736680
+SPILL	SORT_AND_SPILL	23480719000
+SPILL	QUICK_SORT	10268962000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	13146936000
+SPILL	WRITE	6039749000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11766424
+SPILL	COMPRESS_BYTE_COUNT	4662348
+SPILL	SORT_AND_SPILL	25926435756
+SPILL	QUICK_SORT	12195029000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	13573167756
+SPILL	WRITE	6206293756
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11748513
+SPILL	COMPRESS_BYTE_COUNT	4584124
+SPILL	SORT_AND_SPILL	23029111000
+SPILL	QUICK_SORT	11402408000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11493093000
+SPILL	WRITE	5441006000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11682430
+SPILL	COMPRESS_BYTE_COUNT	4595102
+SPILL	SORT_AND_SPILL	24473949756
+SPILL	QUICK_SORT	11352494000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	13055328756
+SPILL	WRITE	5941319756
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12020695
+SPILL	COMPRESS_BYTE_COUNT	4689615
+SPILL	SORT_AND_SPILL	23753260000
+SPILL	QUICK_SORT	10419054000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	13091331000
+SPILL	WRITE	6082221000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12119321
+SPILL	COMPRESS_BYTE_COUNT	4769826
+SPILL	SORT_AND_SPILL	24420221907
+SPILL	QUICK_SORT	9966184000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	14389440907
+SPILL	WRITE	7228733000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11975263
+SPILL	COMPRESS_BYTE_COUNT	4669842
+SPILL	SORT_AND_SPILL	25127304000
+SPILL	QUICK_SORT	10319341000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	14496192000
+SPILL	WRITE	6243733000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11816148
+SPILL	COMPRESS_BYTE_COUNT	4630935
+SPILL	SORT_AND_SPILL	25311754604
+SPILL	QUICK_SORT	10434482000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	14814178604
+SPILL	WRITE	6130202604
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11602254
+SPILL	COMPRESS_BYTE_COUNT	4521615
+SPILL	SORT_AND_SPILL	24523899000
+SPILL	QUICK_SORT	12399037000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	11839938000
+SPILL	WRITE	5701887000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11622257
+SPILL	COMPRESS_BYTE_COUNT	4562857
+SPILL	SORT_AND_SPILL	24548950756
+SPILL	QUICK_SORT	11351360000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	13056362756
+SPILL	WRITE	5829029000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11636403
+SPILL	COMPRESS_BYTE_COUNT	4530149
+SPILL	SORT_AND_SPILL	22930034000
+SPILL	QUICK_SORT	10824721000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11715312000
+SPILL	WRITE	5645676000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11855528
+SPILL	COMPRESS_BYTE_COUNT	4625650
+SPILL	SORT_AND_SPILL	24970989000
+SPILL	QUICK_SORT	10244502000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	14640058000
+SPILL	WRITE	6583243000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11779378
+SPILL	COMPRESS_BYTE_COUNT	4617546
+SPILL	SORT_AND_SPILL	26030054000
+SPILL	QUICK_SORT	12572493000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	12190705000
+SPILL	WRITE	5898980000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11812081
+SPILL	COMPRESS_BYTE_COUNT	4632536
+SPILL	SORT_AND_SPILL	23913056000
+SPILL	QUICK_SORT	11051815000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	12680277000
+SPILL	WRITE	5958475000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11640304
+SPILL	COMPRESS_BYTE_COUNT	4547819
+SPILL	SORT_AND_SPILL	25717957000
+SPILL	QUICK_SORT	11620891000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	12398641000
+SPILL	WRITE	5867318000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11465142
+SPILL	COMPRESS_BYTE_COUNT	4512654
+SPILL	SORT_AND_SPILL	23467129000
+SPILL	QUICK_SORT	11144359000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	12258455000
+SPILL	WRITE	5890254000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11808479
+SPILL	COMPRESS_BYTE_COUNT	4639344
+SPILL	SORT_AND_SPILL	22765291000
+SPILL	QUICK_SORT	11471996000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10311002000
+SPILL	WRITE	4782187000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	10232134
+SPILL	COMPRESS_BYTE_COUNT	3963389
+SPILL	SORT_AND_SPILL	23515588000
+SPILL	QUICK_SORT	10303432000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	13129507000
+SPILL	WRITE	5763226000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11579259
+SPILL	COMPRESS_BYTE_COUNT	4615979
+MAP	CLEANUP	54000
+MAP	CLEANUP_MEM	236043592
+MAP	TOTAL_RUN	710882370075
+MAP	READ	4420869000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	129555
+MAP	VALUE_BYTE_COUNT	32977947
+MAP	MAP	706355152075
+MAP	WRITE	672175481075
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	33649010908
+MAP	SERIALIZE_OUTPUT	555408502655
+MAP	MAP_MEM	236045640
+SPILL	SORT_AND_SPILL	14453244604
+SPILL	QUICK_SORT	5842819604
+SPILL	SORT_COUNT	513001
+SPILL	COMBINE	8497387000
+SPILL	WRITE	3886767000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7286326
+SPILL	COMPRESS_BYTE_COUNT	2831534
+MERGE	TOTAL_MERGE	265593751023
+MERGE	READ_WRITE	264232435023
+MERGE	READ_WRITE_COUNT	81
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	991384669702
@@ -0,0 +1,227 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt/part-00119	0
+MAP	STARTUP_MEM	214801808
+MAP	SETUP	544000
+MAP	SETUP_MEM	214801808
+SPILL	SORT_AND_SPILL	23477030000
+SPILL	QUICK_SORT	12848224000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	10418051000
+SPILL	WRITE	5223093000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11288824
+SPILL	COMPRESS_BYTE_COUNT	4462411
+SPILL	SORT_AND_SPILL	21092036000
+SPILL	QUICK_SORT	11762133000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	9258804000
+SPILL	WRITE	4588150000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	10313638
+SPILL	COMPRESS_BYTE_COUNT	4111000
+SPILL	SORT_AND_SPILL	21073818000
+SPILL	QUICK_SORT	11063323000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	8991476000
+SPILL	WRITE	4463862000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	9633470
+SPILL	COMPRESS_BYTE_COUNT	3829929
+SPILL	SORT_AND_SPILL	21615915000
+SPILL	QUICK_SORT	11341722000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10219349000
+SPILL	WRITE	5047527000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	10858974
+SPILL	COMPRESS_BYTE_COUNT	4281337
+SPILL	SORT_AND_SPILL	24181820000
+SPILL	QUICK_SORT	9879628000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	13017298000
+SPILL	WRITE	5925818000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	10610962
+SPILL	COMPRESS_BYTE_COUNT	4181385
+SPILL	SORT_AND_SPILL	22002709000
+SPILL	QUICK_SORT	9909181000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	12013819000
+SPILL	WRITE	6259244000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	10348444
+SPILL	COMPRESS_BYTE_COUNT	4092346
+SPILL	SORT_AND_SPILL	24174769000
+SPILL	QUICK_SORT	11176041000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11941755000
+SPILL	WRITE	6222726000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11411635
+SPILL	COMPRESS_BYTE_COUNT	4504108
+SPILL	SORT_AND_SPILL	21331380000
+SPILL	QUICK_SORT	10737516000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10531517000
+SPILL	WRITE	5118378000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11274445
+SPILL	COMPRESS_BYTE_COUNT	4452529
+SPILL	SORT_AND_SPILL	22532245000
+SPILL	QUICK_SORT	11351428000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11032429000
+SPILL	WRITE	5787026000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11632956
+SPILL	COMPRESS_BYTE_COUNT	4576749
+SPILL	SORT_AND_SPILL	22305884000
+SPILL	QUICK_SORT	10923472000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	11315558000
+SPILL	WRITE	5664303000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11706670
+SPILL	COMPRESS_BYTE_COUNT	4592674
+SPILL	SORT_AND_SPILL	22639947000
+SPILL	QUICK_SORT	10475728000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11300269000
+SPILL	WRITE	5816199000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12115717
+SPILL	COMPRESS_BYTE_COUNT	4770404
+SPILL	SORT_AND_SPILL	21318477000
+SPILL	QUICK_SORT	10371628000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10881933000
+SPILL	WRITE	5252051000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11395630
+SPILL	COMPRESS_BYTE_COUNT	4510845
+SPILL	SORT_AND_SPILL	23530485000
+SPILL	QUICK_SORT	11207041000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	12091298000
+SPILL	WRITE	5964947000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11704651
+SPILL	COMPRESS_BYTE_COUNT	4605981
+SPILL	SORT_AND_SPILL	23216341000
+SPILL	QUICK_SORT	10177550000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	12952141000
+SPILL	WRITE	6456183000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11880901
+SPILL	COMPRESS_BYTE_COUNT	4695760
+SPILL	SORT_AND_SPILL	22150049000
+SPILL	QUICK_SORT	10835717000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	10928969000
+SPILL	WRITE	5596971000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12042518
+SPILL	COMPRESS_BYTE_COUNT	4754836
+SPILL	SORT_AND_SPILL	22097672000
+SPILL	QUICK_SORT	11440055000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10570681000
+SPILL	WRITE	5381174000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11926620
+SPILL	COMPRESS_BYTE_COUNT	4707798
+SPILL	SORT_AND_SPILL	22734496000
+SPILL	QUICK_SORT	10472890000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11284966000
+SPILL	WRITE	5548592000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11876749
+SPILL	COMPRESS_BYTE_COUNT	4731897
+SPILL	SORT_AND_SPILL	21960428000
+SPILL	QUICK_SORT	10613175000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11285798000
+SPILL	WRITE	5492864000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11501823
+SPILL	COMPRESS_BYTE_COUNT	4505092
+SPILL	SORT_AND_SPILL	24190146000
+SPILL	QUICK_SORT	11713536000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10362334000
+SPILL	WRITE	5252830000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11620072
+SPILL	COMPRESS_BYTE_COUNT	4561672
+SPILL	SORT_AND_SPILL	20385981000
+SPILL	QUICK_SORT	10169129000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	10132610000
+SPILL	WRITE	5182595000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11558659
+SPILL	COMPRESS_BYTE_COUNT	4550994
+SPILL	SORT_AND_SPILL	24122642000
+SPILL	QUICK_SORT	10638283000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	12568831000
+SPILL	WRITE	6204897000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11496265
+SPILL	COMPRESS_BYTE_COUNT	4527349
+SPILL	SORT_AND_SPILL	23347786000
+SPILL	QUICK_SORT	10837596000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	12442891000
+SPILL	WRITE	5907196000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11868901
+SPILL	COMPRESS_BYTE_COUNT	4658889
+SPILL	SORT_AND_SPILL	22467599000
+SPILL	QUICK_SORT	10641213000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11505142000
+SPILL	WRITE	5751704000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11155055
+SPILL	COMPRESS_BYTE_COUNT	4377651
+MAP	CLEANUP	86000
+MAP	CLEANUP_MEM	263137760
+MAP	TOTAL_RUN	614317696000
+MAP	READ	695334000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	151986
+MAP	VALUE_BYTE_COUNT	32654473
+MAP	MAP	613530296000
+MAP	WRITE	585702002000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	23987462000
+MAP	SERIALIZE_OUTPUT	491295024000
+MAP	MAP_MEM	263137760
+SPILL	SORT_AND_SPILL	20515195000
+SPILL	QUICK_SORT	10061360000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10387756000
+SPILL	WRITE	5301118000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11829541
+SPILL	COMPRESS_BYTE_COUNT	4665925
+SPILL	SORT_AND_SPILL	3414549000
+SPILL	QUICK_SORT	1478184000
+SPILL	SORT_COUNT	150015
+SPILL	COMBINE	1847556000
+SPILL	WRITE	923423000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	2162478
+SPILL	COMPRESS_BYTE_COUNT	824837
+MERGE	TOTAL_MERGE	243602281000
+MERGE	READ_WRITE	242712573000
+MERGE	READ_WRITE_COUNT	81
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	881673757000
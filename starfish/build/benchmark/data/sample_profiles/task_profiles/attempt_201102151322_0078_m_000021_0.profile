@@ -0,0 +1,227 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt/part-00124	0
+MAP	STARTUP_MEM	213966392
+MAP	SETUP	483000
+MAP	SETUP_MEM	213966392
+SPILL	SORT_AND_SPILL	22684402000
+SPILL	QUICK_SORT	11396065000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	10953367000
+SPILL	WRITE	5452971000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11298346
+SPILL	COMPRESS_BYTE_COUNT	4390931
+SPILL	SORT_AND_SPILL	21286371000
+SPILL	QUICK_SORT	11147467000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10089676000
+SPILL	WRITE	4988423000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	10884455
+SPILL	COMPRESS_BYTE_COUNT	4247815
+SPILL	SORT_AND_SPILL	22691969000
+SPILL	QUICK_SORT	11752993000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10810409000
+SPILL	WRITE	5544542000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11554883
+SPILL	COMPRESS_BYTE_COUNT	4552876
+SPILL	SORT_AND_SPILL	22661162000
+SPILL	QUICK_SORT	12013920000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10587295000
+SPILL	WRITE	5405233000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11856513
+SPILL	COMPRESS_BYTE_COUNT	4695958
+SPILL	SORT_AND_SPILL	23268336000
+SPILL	QUICK_SORT	12295552000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	10823947000
+SPILL	WRITE	5628738000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11885269
+SPILL	COMPRESS_BYTE_COUNT	4644227
+SPILL	SORT_AND_SPILL	20571313000
+SPILL	QUICK_SORT	10079281000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10437794000
+SPILL	WRITE	5453578000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11764670
+SPILL	COMPRESS_BYTE_COUNT	4574598
+SPILL	SORT_AND_SPILL	20479167000
+SPILL	QUICK_SORT	9617035000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10039303000
+SPILL	WRITE	5226115000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11378532
+SPILL	COMPRESS_BYTE_COUNT	4422867
+SPILL	SORT_AND_SPILL	20571266000
+SPILL	QUICK_SORT	9800819000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10715601000
+SPILL	WRITE	5417943000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11705423
+SPILL	COMPRESS_BYTE_COUNT	4568049
+SPILL	SORT_AND_SPILL	20330491000
+SPILL	QUICK_SORT	10202792000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10011400000
+SPILL	WRITE	5098412000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11352386
+SPILL	COMPRESS_BYTE_COUNT	4433065
+SPILL	SORT_AND_SPILL	20377771000
+SPILL	QUICK_SORT	9663418000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	10663713000
+SPILL	WRITE	5402609000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11315938
+SPILL	COMPRESS_BYTE_COUNT	4420354
+SPILL	SORT_AND_SPILL	21795543000
+SPILL	QUICK_SORT	9796768000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10680026000
+SPILL	WRITE	5761914000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12003499
+SPILL	COMPRESS_BYTE_COUNT	4747982
+SPILL	SORT_AND_SPILL	20692633000
+SPILL	QUICK_SORT	10088738000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10534621000
+SPILL	WRITE	5436559000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11897720
+SPILL	COMPRESS_BYTE_COUNT	4703559
+SPILL	SORT_AND_SPILL	21751497000
+SPILL	QUICK_SORT	10730259000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10467090000
+SPILL	WRITE	5340237000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11843559
+SPILL	COMPRESS_BYTE_COUNT	4618101
+SPILL	SORT_AND_SPILL	22072539000
+SPILL	QUICK_SORT	10508128000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11500135000
+SPILL	WRITE	5750467000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11842949
+SPILL	COMPRESS_BYTE_COUNT	4599733
+SPILL	SORT_AND_SPILL	21954317000
+SPILL	QUICK_SORT	10386189000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	10819948000
+SPILL	WRITE	5537362000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11919498
+SPILL	COMPRESS_BYTE_COUNT	4659630
+SPILL	SORT_AND_SPILL	21408859000
+SPILL	QUICK_SORT	10898922000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10454520000
+SPILL	WRITE	5133294000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11180260
+SPILL	COMPRESS_BYTE_COUNT	4372791
+SPILL	SORT_AND_SPILL	24149369000
+SPILL	QUICK_SORT	9634839000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	13180713000
+SPILL	WRITE	6656503000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11345860
+SPILL	COMPRESS_BYTE_COUNT	4503067
+SPILL	SORT_AND_SPILL	20515884000
+SPILL	QUICK_SORT	10614969000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	9844494000
+SPILL	WRITE	5025138000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11125983
+SPILL	COMPRESS_BYTE_COUNT	4332953
+SPILL	SORT_AND_SPILL	21563073000
+SPILL	QUICK_SORT	10254184000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11167528000
+SPILL	WRITE	5500290000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11512116
+SPILL	COMPRESS_BYTE_COUNT	4539560
+SPILL	SORT_AND_SPILL	21252428000
+SPILL	QUICK_SORT	10864341000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	10319964000
+SPILL	WRITE	5279489000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11678057
+SPILL	COMPRESS_BYTE_COUNT	4659939
+SPILL	SORT_AND_SPILL	20694629000
+SPILL	QUICK_SORT	10284484000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10301846000
+SPILL	WRITE	5310251000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11791325
+SPILL	COMPRESS_BYTE_COUNT	4594006
+SPILL	SORT_AND_SPILL	20617631000
+SPILL	QUICK_SORT	10668381000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	9903101000
+SPILL	WRITE	5045948000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11248705
+SPILL	COMPRESS_BYTE_COUNT	4394120
+SPILL	SORT_AND_SPILL	20174645000
+SPILL	QUICK_SORT	9902196000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10152690000
+SPILL	WRITE	5191472000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11687900
+SPILL	COMPRESS_BYTE_COUNT	4538455
+MAP	CLEANUP	48000
+MAP	CLEANUP_MEM	219705672
+MAP	TOTAL_RUN	589952570914
+MAP	READ	1242539000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	121563
+MAP	VALUE_BYTE_COUNT	32356249
+MAP	MAP	588628254914
+MAP	WRITE	560806130914
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	18201266914
+MAP	SERIALIZE_OUTPUT	487585875000
+MAP	MAP_MEM	219705672
+SPILL	SORT_AND_SPILL	19840202000
+SPILL	QUICK_SORT	9539307000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10228090000
+SPILL	WRITE	5226377000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11531870
+SPILL	COMPRESS_BYTE_COUNT	4510905
+SPILL	SORT_AND_SPILL	1624046000
+SPILL	QUICK_SORT	693194000
+SPILL	SORT_COUNT	69199
+SPILL	COMBINE	843700000
+SPILL	WRITE	437031000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	1121971
+SPILL	COMPRESS_BYTE_COUNT	426142
+MERGE	TOTAL_MERGE	233671826000
+MERGE	READ_WRITE	232898424000
+MERGE	READ_WRITE_COUNT	81
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	842990422914
@@ -0,0 +1,227 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt/part-00123	0
+MAP	STARTUP_MEM	214811872
+MAP	SETUP	534000
+MAP	SETUP_MEM	214811872
+SPILL	SORT_AND_SPILL	28500445000
+SPILL	QUICK_SORT	16414094000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	11897304000
+SPILL	WRITE	5750606000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11943726
+SPILL	COMPRESS_BYTE_COUNT	4688295
+SPILL	SORT_AND_SPILL	25891585000
+SPILL	QUICK_SORT	14194615000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10985116000
+SPILL	WRITE	5538224000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11832133
+SPILL	COMPRESS_BYTE_COUNT	4643012
+SPILL	SORT_AND_SPILL	26318835000
+SPILL	QUICK_SORT	15259940000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10980726000
+SPILL	WRITE	5559937000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11964860
+SPILL	COMPRESS_BYTE_COUNT	4663430
+SPILL	SORT_AND_SPILL	25707407000
+SPILL	QUICK_SORT	14804715000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10745961000
+SPILL	WRITE	5357316000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11839126
+SPILL	COMPRESS_BYTE_COUNT	4659640
+SPILL	SORT_AND_SPILL	26928762000
+SPILL	QUICK_SORT	14797857000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	12066142000
+SPILL	WRITE	6042218000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11597182
+SPILL	COMPRESS_BYTE_COUNT	4526027
+SPILL	SORT_AND_SPILL	25763965000
+SPILL	QUICK_SORT	14599542000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10995681000
+SPILL	WRITE	5601014000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11996500
+SPILL	COMPRESS_BYTE_COUNT	4770263
+SPILL	SORT_AND_SPILL	25249443000
+SPILL	QUICK_SORT	14127979000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11037216000
+SPILL	WRITE	5574372000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12051222
+SPILL	COMPRESS_BYTE_COUNT	4757420
+SPILL	SORT_AND_SPILL	25213753000
+SPILL	QUICK_SORT	13780419000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10737232000
+SPILL	WRITE	5312260000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11610038
+SPILL	COMPRESS_BYTE_COUNT	4587448
+SPILL	SORT_AND_SPILL	24456543000
+SPILL	QUICK_SORT	13725524000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10663018000
+SPILL	WRITE	5285809000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11435786
+SPILL	COMPRESS_BYTE_COUNT	4494501
+SPILL	SORT_AND_SPILL	24935875000
+SPILL	QUICK_SORT	13309806000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	10769191000
+SPILL	WRITE	5374992000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11694726
+SPILL	COMPRESS_BYTE_COUNT	4628979
+SPILL	SORT_AND_SPILL	24224397000
+SPILL	QUICK_SORT	13616492000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10543456000
+SPILL	WRITE	5324313000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11412062
+SPILL	COMPRESS_BYTE_COUNT	4485628
+SPILL	SORT_AND_SPILL	25654446000
+SPILL	QUICK_SORT	14267049000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11222629000
+SPILL	WRITE	5615024000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11879613
+SPILL	COMPRESS_BYTE_COUNT	4686923
+SPILL	SORT_AND_SPILL	24903993000
+SPILL	QUICK_SORT	14329475000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10504290000
+SPILL	WRITE	5238004000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11495247
+SPILL	COMPRESS_BYTE_COUNT	4536212
+SPILL	SORT_AND_SPILL	25434442000
+SPILL	QUICK_SORT	13223833000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11138821000
+SPILL	WRITE	5631749000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11846799
+SPILL	COMPRESS_BYTE_COUNT	4672709
+SPILL	SORT_AND_SPILL	25868208000
+SPILL	QUICK_SORT	14622554000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	11166109000
+SPILL	WRITE	5532841000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11884560
+SPILL	COMPRESS_BYTE_COUNT	4682815
+SPILL	SORT_AND_SPILL	24518295000
+SPILL	QUICK_SORT	13067274000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10543619000
+SPILL	WRITE	5232798000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11362916
+SPILL	COMPRESS_BYTE_COUNT	4440280
+SPILL	SORT_AND_SPILL	24980652000
+SPILL	QUICK_SORT	13911909000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10956280000
+SPILL	WRITE	5318545000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11533508
+SPILL	COMPRESS_BYTE_COUNT	4527540
+SPILL	SORT_AND_SPILL	26160850000
+SPILL	QUICK_SORT	14406178000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11600541000
+SPILL	WRITE	5804005000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11971479
+SPILL	COMPRESS_BYTE_COUNT	4675882
+SPILL	SORT_AND_SPILL	23779678000
+SPILL	QUICK_SORT	12764967000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10488092000
+SPILL	WRITE	5242722000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11402479
+SPILL	COMPRESS_BYTE_COUNT	4491358
+SPILL	SORT_AND_SPILL	26365504000
+SPILL	QUICK_SORT	13803718000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	12477889000
+SPILL	WRITE	6051754000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11826210
+SPILL	COMPRESS_BYTE_COUNT	4642141
+SPILL	SORT_AND_SPILL	24487394000
+SPILL	QUICK_SORT	12613798000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10917386000
+SPILL	WRITE	5344560000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11883066
+SPILL	COMPRESS_BYTE_COUNT	4653283
+SPILL	SORT_AND_SPILL	23751542000
+SPILL	QUICK_SORT	12450401000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11185236000
+SPILL	WRITE	5700205000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12011447
+SPILL	COMPRESS_BYTE_COUNT	4710403
+SPILL	SORT_AND_SPILL	23054723000
+SPILL	QUICK_SORT	11350281000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11437922000
+SPILL	WRITE	5716834000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11938883
+SPILL	COMPRESS_BYTE_COUNT	4727875
+MAP	CLEANUP	106000
+MAP	CLEANUP_MEM	238328208
+MAP	TOTAL_RUN	682259034000
+MAP	READ	684377000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	113872
+MAP	VALUE_BYTE_COUNT	32308554
+MAP	MAP	681495773000
+MAP	WRITE	654721946000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	23272924000
+MAP	SERIALIZE_OUTPUT	548747184000
+MAP	MAP_MEM	238330256
+SPILL	SORT_AND_SPILL	27322732000
+SPILL	QUICK_SORT	12145589000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	14982927000
+SPILL	WRITE	6981228000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11749926
+SPILL	COMPRESS_BYTE_COUNT	4594685
+SPILL	SORT_AND_SPILL	3584589000
+SPILL	QUICK_SORT	1561917000
+SPILL	SORT_COUNT	145065
+SPILL	COMBINE	1923851000
+SPILL	WRITE	952146000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	2194154
+SPILL	COMPRESS_BYTE_COUNT	835151
+MERGE	TOTAL_MERGE	276152681297
+MERGE	READ_WRITE	275068803297
+MERGE	READ_WRITE_COUNT	81
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	987407893297
@@ -0,0 +1,227 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt/part-00127	0
+MAP	STARTUP_MEM	213895344
+MAP	SETUP	521000
+MAP	SETUP_MEM	213895344
+SPILL	SORT_AND_SPILL	24361517000
+SPILL	QUICK_SORT	12820403000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	11376649000
+SPILL	WRITE	5407922000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11328198
+SPILL	COMPRESS_BYTE_COUNT	4435082
+SPILL	SORT_AND_SPILL	23454111836
+SPILL	QUICK_SORT	11605260836
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11783156000
+SPILL	WRITE	5559158000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11794954
+SPILL	COMPRESS_BYTE_COUNT	4644568
+SPILL	SORT_AND_SPILL	23907084000
+SPILL	QUICK_SORT	10931251000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11560608000
+SPILL	WRITE	5623616000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11610042
+SPILL	COMPRESS_BYTE_COUNT	4564283
+SPILL	SORT_AND_SPILL	21294905700
+SPILL	QUICK_SORT	9563100700
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11617363000
+SPILL	WRITE	5155344000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	9634280
+SPILL	COMPRESS_BYTE_COUNT	3698632
+SPILL	SORT_AND_SPILL	24375396000
+SPILL	QUICK_SORT	10064891000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	14150674000
+SPILL	WRITE	6135270000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11720324
+SPILL	COMPRESS_BYTE_COUNT	4665808
+SPILL	SORT_AND_SPILL	22981819908
+SPILL	QUICK_SORT	10400306908
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	12520668000
+SPILL	WRITE	5650310000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11663073
+SPILL	COMPRESS_BYTE_COUNT	4552942
+SPILL	SORT_AND_SPILL	24838288000
+SPILL	QUICK_SORT	10665236000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	13843513000
+SPILL	WRITE	6417368000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11790786
+SPILL	COMPRESS_BYTE_COUNT	4621174
+SPILL	SORT_AND_SPILL	23780492528
+SPILL	QUICK_SORT	10463765000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	13251502528
+SPILL	WRITE	5656762528
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11779170
+SPILL	COMPRESS_BYTE_COUNT	4611616
+SPILL	SORT_AND_SPILL	24089159000
+SPILL	QUICK_SORT	10599694000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	13344799000
+SPILL	WRITE	5802450000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11685789
+SPILL	COMPRESS_BYTE_COUNT	4572101
+SPILL	SORT_AND_SPILL	23461029497
+SPILL	QUICK_SORT	10198985000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	13207787497
+SPILL	WRITE	5708065000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11284503
+SPILL	COMPRESS_BYTE_COUNT	4387981
+SPILL	SORT_AND_SPILL	25206575000
+SPILL	QUICK_SORT	10789913000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	13768409000
+SPILL	WRITE	6095949000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11816053
+SPILL	COMPRESS_BYTE_COUNT	4615771
+SPILL	SORT_AND_SPILL	22617684429
+SPILL	QUICK_SORT	10204495000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	12358863429
+SPILL	WRITE	5343900000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11090807
+SPILL	COMPRESS_BYTE_COUNT	4375551
+SPILL	SORT_AND_SPILL	23798467000
+SPILL	QUICK_SORT	10647022000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	12877435000
+SPILL	WRITE	6032661000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11519378
+SPILL	COMPRESS_BYTE_COUNT	4536530
+SPILL	SORT_AND_SPILL	24531862022
+SPILL	QUICK_SORT	9987636000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	14367899022
+SPILL	WRITE	6337503000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11710457
+SPILL	COMPRESS_BYTE_COUNT	4580542
+SPILL	SORT_AND_SPILL	23901999000
+SPILL	QUICK_SORT	10418469000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	13183549000
+SPILL	WRITE	6372497000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12070608
+SPILL	COMPRESS_BYTE_COUNT	4800415
+SPILL	SORT_AND_SPILL	23683157882
+SPILL	QUICK_SORT	10455968000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	13160382882
+SPILL	WRITE	6131635000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11868923
+SPILL	COMPRESS_BYTE_COUNT	4725685
+SPILL	SORT_AND_SPILL	23390229000
+SPILL	QUICK_SORT	10523718000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11236355000
+SPILL	WRITE	5430105000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11482749
+SPILL	COMPRESS_BYTE_COUNT	4530095
+SPILL	SORT_AND_SPILL	22514867000
+SPILL	QUICK_SORT	9954224000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	12504393000
+SPILL	WRITE	5454412000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11505252
+SPILL	COMPRESS_BYTE_COUNT	4512760
+SPILL	SORT_AND_SPILL	24008406000
+SPILL	QUICK_SORT	11845868000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11830668000
+SPILL	WRITE	5542106000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11845843
+SPILL	COMPRESS_BYTE_COUNT	4645096
+SPILL	SORT_AND_SPILL	24659572000
+SPILL	QUICK_SORT	11608003000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	12998706000
+SPILL	WRITE	6042654000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11014127
+SPILL	COMPRESS_BYTE_COUNT	4351581
+SPILL	SORT_AND_SPILL	24904576000
+SPILL	QUICK_SORT	11086785000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	13643254000
+SPILL	WRITE	6040239000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11676376
+SPILL	COMPRESS_BYTE_COUNT	4592249
+SPILL	SORT_AND_SPILL	26346042000
+SPILL	QUICK_SORT	11259317000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	14784232000
+SPILL	WRITE	6282914000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11839472
+SPILL	COMPRESS_BYTE_COUNT	4641020
+SPILL	SORT_AND_SPILL	26091865000
+SPILL	QUICK_SORT	10644543000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	15203703000
+SPILL	WRITE	6748047000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12268903
+SPILL	COMPRESS_BYTE_COUNT	4852067
+MAP	CLEANUP	96000
+MAP	CLEANUP_MEM	265919448
+MAP	TOTAL_RUN	672163972525
+MAP	READ	732412000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	107437
+MAP	VALUE_BYTE_COUNT	32290187
+MAP	MAP	671345359525
+MAP	WRITE	635880577525
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	30334754000
+MAP	SERIALIZE_OUTPUT	523010594101
+MAP	MAP_MEM	265921496
+SPILL	SORT_AND_SPILL	22813538000
+SPILL	QUICK_SORT	11084899000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11573058000
+SPILL	WRITE	5789894000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11807896
+SPILL	COMPRESS_BYTE_COUNT	4650609
+SPILL	SORT_AND_SPILL	1264012000
+SPILL	QUICK_SORT	372638000
+SPILL	SORT_COUNT	53757
+SPILL	COMBINE	872863000
+SPILL	WRITE	388388000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	837797
+SPILL	COMPRESS_BYTE_COUNT	322758
+MERGE	TOTAL_MERGE	253056976827
+MERGE	READ_WRITE	251767990827
+MERGE	READ_WRITE_COUNT	81
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	948439429352
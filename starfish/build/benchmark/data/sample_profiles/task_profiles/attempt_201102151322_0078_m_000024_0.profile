@@ -0,0 +1,219 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt/part-00121	0
+MAP	STARTUP_MEM	214774936
+MAP	SETUP	647000
+MAP	SETUP_MEM	214774936
+SPILL	SORT_AND_SPILL	24943511000
+SPILL	QUICK_SORT	12980150000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	11793284000
+SPILL	WRITE	5839520000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11742720
+SPILL	COMPRESS_BYTE_COUNT	4576393
+SPILL	SORT_AND_SPILL	25442995000
+SPILL	QUICK_SORT	13677989000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11621749000
+SPILL	WRITE	5520468000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11938922
+SPILL	COMPRESS_BYTE_COUNT	4694460
+SPILL	SORT_AND_SPILL	23779370000
+SPILL	QUICK_SORT	12311717000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11207862000
+SPILL	WRITE	5395595000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11144641
+SPILL	COMPRESS_BYTE_COUNT	4369004
+SPILL	SORT_AND_SPILL	28309222000
+SPILL	QUICK_SORT	14075491000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	13946973000
+SPILL	WRITE	6155340000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11917875
+SPILL	COMPRESS_BYTE_COUNT	4708072
+SPILL	SORT_AND_SPILL	23714483000
+SPILL	QUICK_SORT	9790886000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	13078174000
+SPILL	WRITE	5944641000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11594143
+SPILL	COMPRESS_BYTE_COUNT	4578168
+SPILL	SORT_AND_SPILL	24281775000
+SPILL	QUICK_SORT	10755884000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	13458161000
+SPILL	WRITE	6387651000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11973573
+SPILL	COMPRESS_BYTE_COUNT	4736642
+SPILL	SORT_AND_SPILL	24657290000
+SPILL	QUICK_SORT	10117853000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	14232199000
+SPILL	WRITE	6206383000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11791743
+SPILL	COMPRESS_BYTE_COUNT	4678419
+SPILL	SORT_AND_SPILL	24944206000
+SPILL	QUICK_SORT	10944986000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	13885165000
+SPILL	WRITE	6414192000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11883925
+SPILL	COMPRESS_BYTE_COUNT	4630567
+SPILL	SORT_AND_SPILL	25495627000
+SPILL	QUICK_SORT	10114653000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	14689232000
+SPILL	WRITE	6418356000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11881885
+SPILL	COMPRESS_BYTE_COUNT	4712639
+SPILL	SORT_AND_SPILL	23333034000
+SPILL	QUICK_SORT	10427029000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	12785986000
+SPILL	WRITE	5726422000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11674997
+SPILL	COMPRESS_BYTE_COUNT	4523385
+SPILL	SORT_AND_SPILL	24874306000
+SPILL	QUICK_SORT	10343409000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	14327648000
+SPILL	WRITE	6429371000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11429609
+SPILL	COMPRESS_BYTE_COUNT	4488109
+SPILL	SORT_AND_SPILL	23234141000
+SPILL	QUICK_SORT	10584592000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	12562585000
+SPILL	WRITE	6473387000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11705683
+SPILL	COMPRESS_BYTE_COUNT	4613276
+SPILL	SORT_AND_SPILL	24749193000
+SPILL	QUICK_SORT	10693692000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	13896836000
+SPILL	WRITE	5969090000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11970623
+SPILL	COMPRESS_BYTE_COUNT	4669943
+SPILL	SORT_AND_SPILL	24694929022
+SPILL	QUICK_SORT	9930645022
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	14702958000
+SPILL	WRITE	6760864000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11433436
+SPILL	COMPRESS_BYTE_COUNT	4550253
+SPILL	SORT_AND_SPILL	26170698000
+SPILL	QUICK_SORT	10958301000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	14780113000
+SPILL	WRITE	7041670000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11810670
+SPILL	COMPRESS_BYTE_COUNT	4780731
+SPILL	SORT_AND_SPILL	22135173882
+SPILL	QUICK_SORT	10300338882
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11445790000
+SPILL	WRITE	5379452000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11715578
+SPILL	COMPRESS_BYTE_COUNT	4635842
+SPILL	SORT_AND_SPILL	27297558000
+SPILL	QUICK_SORT	11764222000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	15465635000
+SPILL	WRITE	7206883000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12008843
+SPILL	COMPRESS_BYTE_COUNT	4708777
+SPILL	SORT_AND_SPILL	22544099105
+SPILL	QUICK_SORT	10819138105
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11593096000
+SPILL	WRITE	5355916000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11809840
+SPILL	COMPRESS_BYTE_COUNT	4652760
+SPILL	SORT_AND_SPILL	23267201000
+SPILL	QUICK_SORT	11734693000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11468530000
+SPILL	WRITE	5551403000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11888144
+SPILL	COMPRESS_BYTE_COUNT	4660892
+SPILL	SORT_AND_SPILL	24422118299
+SPILL	QUICK_SORT	10294010299
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	13767979000
+SPILL	WRITE	6601736000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11810225
+SPILL	COMPRESS_BYTE_COUNT	4679174
+SPILL	SORT_AND_SPILL	22900259000
+SPILL	QUICK_SORT	10585817000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	12250735000
+SPILL	WRITE	5307853000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11822243
+SPILL	COMPRESS_BYTE_COUNT	4620557
+SPILL	SORT_AND_SPILL	22853933319
+SPILL	QUICK_SORT	10105520000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	12489718319
+SPILL	WRITE	5752752000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11334357
+SPILL	COMPRESS_BYTE_COUNT	4464225
+SPILL	SORT_AND_SPILL	21623945000
+SPILL	QUICK_SORT	10075088000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11488147000
+SPILL	WRITE	5454963000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11748541
+SPILL	COMPRESS_BYTE_COUNT	4586545
+MAP	CLEANUP	67000
+MAP	CLEANUP_MEM	232382376
+MAP	TOTAL_RUN	675773385525
+MAP	READ	973365000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	124288
+MAP	VALUE_BYTE_COUNT	31561437
+MAP	MAP	674710032525
+MAP	WRITE	639890215621
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	26485866908
+MAP	SERIALIZE_OUTPUT	532279150220
+MAP	MAP_MEM	232384424
+SPILL	SORT_AND_SPILL	12722466000
+SPILL	QUICK_SORT	5851350000
+SPILL	SORT_COUNT	477188
+SPILL	COMBINE	6633241000
+SPILL	WRITE	3186987000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	6915220
+SPILL	COMPRESS_BYTE_COUNT	2712024
+MERGE	TOTAL_MERGE	249306926827
+MERGE	READ_WRITE	247842735827
+MERGE	READ_WRITE_COUNT	81
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	938272391352
@@ -0,0 +1,211 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt/part-00129	0
+MAP	STARTUP_MEM	214807864
+MAP	SETUP	749000
+MAP	SETUP_MEM	214807864
+SPILL	SORT_AND_SPILL	25452118000
+SPILL	QUICK_SORT	14285738000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	10993916000
+SPILL	WRITE	5552946000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11647718
+SPILL	COMPRESS_BYTE_COUNT	4569194
+SPILL	SORT_AND_SPILL	24571841000
+SPILL	QUICK_SORT	11080504000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	13419515000
+SPILL	WRITE	7027213000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11487884
+SPILL	COMPRESS_BYTE_COUNT	4466643
+SPILL	SORT_AND_SPILL	21145895000
+SPILL	QUICK_SORT	10752130000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10245650000
+SPILL	WRITE	5205919000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11599358
+SPILL	COMPRESS_BYTE_COUNT	4592082
+SPILL	SORT_AND_SPILL	20285094000
+SPILL	QUICK_SORT	10328054000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	9898988000
+SPILL	WRITE	4927282000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11255614
+SPILL	COMPRESS_BYTE_COUNT	4530638
+SPILL	SORT_AND_SPILL	22538283000
+SPILL	QUICK_SORT	10221704000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	11807220000
+SPILL	WRITE	5812219000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11637222
+SPILL	COMPRESS_BYTE_COUNT	4539393
+SPILL	SORT_AND_SPILL	22521190000
+SPILL	QUICK_SORT	11567372000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10893429000
+SPILL	WRITE	5662424000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11877472
+SPILL	COMPRESS_BYTE_COUNT	4609372
+SPILL	SORT_AND_SPILL	22991696000
+SPILL	QUICK_SORT	11385227000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10890688000
+SPILL	WRITE	5498663000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11736980
+SPILL	COMPRESS_BYTE_COUNT	4580081
+SPILL	SORT_AND_SPILL	21982059000
+SPILL	QUICK_SORT	11087137000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10831319000
+SPILL	WRITE	5648857000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11743179
+SPILL	COMPRESS_BYTE_COUNT	4588572
+SPILL	SORT_AND_SPILL	23346163000
+SPILL	QUICK_SORT	11779652000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10616709000
+SPILL	WRITE	5526943000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12031970
+SPILL	COMPRESS_BYTE_COUNT	4725164
+SPILL	SORT_AND_SPILL	22624563000
+SPILL	QUICK_SORT	11939837000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	10625537000
+SPILL	WRITE	5459844000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11716482
+SPILL	COMPRESS_BYTE_COUNT	4574411
+SPILL	SORT_AND_SPILL	23196345000
+SPILL	QUICK_SORT	11530812000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10609343000
+SPILL	WRITE	5422330000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11904937
+SPILL	COMPRESS_BYTE_COUNT	4675049
+SPILL	SORT_AND_SPILL	23347407000
+SPILL	QUICK_SORT	12811450000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10469266000
+SPILL	WRITE	5385832000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11655843
+SPILL	COMPRESS_BYTE_COUNT	4599040
+SPILL	SORT_AND_SPILL	22362494000
+SPILL	QUICK_SORT	10673551000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10512074000
+SPILL	WRITE	5438741000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11871421
+SPILL	COMPRESS_BYTE_COUNT	4677720
+SPILL	SORT_AND_SPILL	22401735000
+SPILL	QUICK_SORT	11782189000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10561215000
+SPILL	WRITE	5640442000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11815431
+SPILL	COMPRESS_BYTE_COUNT	4649435
+SPILL	SORT_AND_SPILL	23421620000
+SPILL	QUICK_SORT	11254139000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	10809691000
+SPILL	WRITE	5555841000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12049374
+SPILL	COMPRESS_BYTE_COUNT	4859114
+SPILL	SORT_AND_SPILL	23367237000
+SPILL	QUICK_SORT	12745453000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10559088000
+SPILL	WRITE	5485456000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11779120
+SPILL	COMPRESS_BYTE_COUNT	4628542
+SPILL	SORT_AND_SPILL	22343272000
+SPILL	QUICK_SORT	11210163000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10533984000
+SPILL	WRITE	5570467000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11982332
+SPILL	COMPRESS_BYTE_COUNT	4763133
+SPILL	SORT_AND_SPILL	20949455000
+SPILL	QUICK_SORT	10113540000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10763410000
+SPILL	WRITE	5657371000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11923607
+SPILL	COMPRESS_BYTE_COUNT	4721660
+SPILL	SORT_AND_SPILL	21389889007
+SPILL	QUICK_SORT	10637745007
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10620853000
+SPILL	WRITE	5370874000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12018155
+SPILL	COMPRESS_BYTE_COUNT	4746371
+SPILL	SORT_AND_SPILL	21497613000
+SPILL	QUICK_SORT	11066874000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	10364811000
+SPILL	WRITE	5401186000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11790872
+SPILL	COMPRESS_BYTE_COUNT	4617407
+SPILL	SORT_AND_SPILL	20341474000
+SPILL	QUICK_SORT	9601427000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10622240000
+SPILL	WRITE	5489675000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11758409
+SPILL	COMPRESS_BYTE_COUNT	4572708
+SPILL	SORT_AND_SPILL	21755346000
+SPILL	QUICK_SORT	11081397000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10615599000
+SPILL	WRITE	5311608000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11817158
+SPILL	COMPRESS_BYTE_COUNT	4665539
+MAP	CLEANUP	50000
+MAP	CLEANUP_MEM	226394536
+MAP	TOTAL_RUN	584429710007
+MAP	READ	4221424000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	116108
+MAP	VALUE_BYTE_COUNT	30436281
+MAP	MAP	580130695007
+MAP	WRITE	557484650007
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	17370490000
+MAP	SERIALIZE_OUTPUT	459890332007
+MAP	MAP_MEM	226396584
+SPILL	SORT_AND_SPILL	9210490000
+SPILL	QUICK_SORT	4022804000
+SPILL	SORT_COUNT	398557
+SPILL	COMBINE	5071039000
+SPILL	WRITE	2577267000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	5664932
+SPILL	COMPRESS_BYTE_COUNT	2214783
+MERGE	TOTAL_MERGE	216625477000
+MERGE	READ_WRITE	215863160000
+MERGE	READ_WRITE_COUNT	81
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	810745796007
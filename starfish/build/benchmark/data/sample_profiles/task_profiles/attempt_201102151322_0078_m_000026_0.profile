@@ -0,0 +1,211 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt/part-00125	0
+MAP	STARTUP_MEM	214759216
+MAP	SETUP	509000
+MAP	SETUP_MEM	214759216
+SPILL	SORT_AND_SPILL	24015869000
+SPILL	QUICK_SORT	12531756000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	11295105000
+SPILL	WRITE	5496312000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11797870
+SPILL	COMPRESS_BYTE_COUNT	4592026
+SPILL	SORT_AND_SPILL	21122340000
+SPILL	QUICK_SORT	10699005000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10358631000
+SPILL	WRITE	5308368000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11654874
+SPILL	COMPRESS_BYTE_COUNT	4592663
+SPILL	SORT_AND_SPILL	20909811000
+SPILL	QUICK_SORT	10075748000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10511738000
+SPILL	WRITE	5544446000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12063562
+SPILL	COMPRESS_BYTE_COUNT	4793492
+SPILL	SORT_AND_SPILL	21264073000
+SPILL	QUICK_SORT	11263575000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	9954752000
+SPILL	WRITE	4964491000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11132795
+SPILL	COMPRESS_BYTE_COUNT	4376010
+SPILL	SORT_AND_SPILL	19048687000
+SPILL	QUICK_SORT	9919964000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	8868764000
+SPILL	WRITE	4431915000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	9824856
+SPILL	COMPRESS_BYTE_COUNT	3728857
+SPILL	SORT_AND_SPILL	21426902000
+SPILL	QUICK_SORT	11206485000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10174639000
+SPILL	WRITE	5308523000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11334881
+SPILL	COMPRESS_BYTE_COUNT	4398289
+SPILL	SORT_AND_SPILL	20442720000
+SPILL	QUICK_SORT	9872755000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10398295000
+SPILL	WRITE	5456499000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11890961
+SPILL	COMPRESS_BYTE_COUNT	4655073
+SPILL	SORT_AND_SPILL	21787511000
+SPILL	QUICK_SORT	11154211000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10581368000
+SPILL	WRITE	5426520000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11711705
+SPILL	COMPRESS_BYTE_COUNT	4605646
+SPILL	SORT_AND_SPILL	21614872000
+SPILL	QUICK_SORT	11134655000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10193462000
+SPILL	WRITE	5272551000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11561533
+SPILL	COMPRESS_BYTE_COUNT	4585696
+SPILL	SORT_AND_SPILL	22656374000
+SPILL	QUICK_SORT	11610115000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	10976102000
+SPILL	WRITE	5589425000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12032850
+SPILL	COMPRESS_BYTE_COUNT	4779296
+SPILL	SORT_AND_SPILL	20988881000
+SPILL	QUICK_SORT	10318021000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10354674000
+SPILL	WRITE	5332926000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11704759
+SPILL	COMPRESS_BYTE_COUNT	4589524
+SPILL	SORT_AND_SPILL	20359193000
+SPILL	QUICK_SORT	9481567000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10830161000
+SPILL	WRITE	5372779000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11342858
+SPILL	COMPRESS_BYTE_COUNT	4434304
+SPILL	SORT_AND_SPILL	22819484000
+SPILL	QUICK_SORT	10750390000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11929298000
+SPILL	WRITE	6231439000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11623940
+SPILL	COMPRESS_BYTE_COUNT	4526247
+SPILL	SORT_AND_SPILL	20822788000
+SPILL	QUICK_SORT	10249576000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10519318000
+SPILL	WRITE	5395856000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11743720
+SPILL	COMPRESS_BYTE_COUNT	4611201
+SPILL	SORT_AND_SPILL	22719353102
+SPILL	QUICK_SORT	10460966102
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	11648722000
+SPILL	WRITE	6003613000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12303389
+SPILL	COMPRESS_BYTE_COUNT	4742803
+SPILL	SORT_AND_SPILL	19836865000
+SPILL	QUICK_SORT	9659939000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10132204000
+SPILL	WRITE	5161240000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11383703
+SPILL	COMPRESS_BYTE_COUNT	4364297
+SPILL	SORT_AND_SPILL	20797472000
+SPILL	QUICK_SORT	10334715000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10209938000
+SPILL	WRITE	5258474000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11650426
+SPILL	COMPRESS_BYTE_COUNT	4563016
+SPILL	SORT_AND_SPILL	21324029000
+SPILL	QUICK_SORT	11059792000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10196072000
+SPILL	WRITE	5271281000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11587706
+SPILL	COMPRESS_BYTE_COUNT	4485030
+SPILL	SORT_AND_SPILL	22629009000
+SPILL	QUICK_SORT	9551699000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	12123485000
+SPILL	WRITE	6139132000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11746134
+SPILL	COMPRESS_BYTE_COUNT	4594509
+SPILL	SORT_AND_SPILL	21903181000
+SPILL	QUICK_SORT	10315139000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	11533211000
+SPILL	WRITE	6061612000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11848819
+SPILL	COMPRESS_BYTE_COUNT	4610966
+SPILL	SORT_AND_SPILL	21168948000
+SPILL	QUICK_SORT	9569984000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11017653000
+SPILL	WRITE	5723964000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11485115
+SPILL	COMPRESS_BYTE_COUNT	4521313
+SPILL	SORT_AND_SPILL	19286551000
+SPILL	QUICK_SORT	9244142000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	9995589000
+SPILL	WRITE	5116845000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11206047
+SPILL	COMPRESS_BYTE_COUNT	4433044
+MAP	CLEANUP	48000
+MAP	CLEANUP_MEM	226608328
+MAP	TOTAL_RUN	571958574102
+MAP	READ	642434000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	99875
+MAP	VALUE_BYTE_COUNT	29960212
+MAP	MAP	571130406102
+MAP	WRITE	544025176102
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	20271645000
+MAP	SERIALIZE_OUTPUT	436962508000
+MAP	MAP_MEM	226608328
+SPILL	SORT_AND_SPILL	7757403000
+SPILL	QUICK_SORT	3359172000
+SPILL	SORT_COUNT	343569
+SPILL	COMBINE	4285926000
+SPILL	WRITE	2213715000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	4994343
+SPILL	COMPRESS_BYTE_COUNT	1946511
+MERGE	TOTAL_MERGE	218477893000
+MERGE	READ_WRITE	217595537000
+MERGE	READ_WRITE_COUNT	81
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	798624096102
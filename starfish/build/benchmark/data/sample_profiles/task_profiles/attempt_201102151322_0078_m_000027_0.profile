@@ -0,0 +1,203 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt/part-00128	0
+MAP	STARTUP_MEM	213955984
+MAP	SETUP	484000
+MAP	SETUP_MEM	213955984
+SPILL	SORT_AND_SPILL	20923446000
+SPILL	QUICK_SORT	10394232000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	10282792000
+SPILL	WRITE	5340016000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11442112
+SPILL	COMPRESS_BYTE_COUNT	4458236
+SPILL	SORT_AND_SPILL	20890879000
+SPILL	QUICK_SORT	10680959000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10145397000
+SPILL	WRITE	5182690000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11474744
+SPILL	COMPRESS_BYTE_COUNT	4576530
+SPILL	SORT_AND_SPILL	21690797000
+SPILL	QUICK_SORT	11229110000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10307550000
+SPILL	WRITE	5376495000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11653622
+SPILL	COMPRESS_BYTE_COUNT	4588403
+SPILL	SORT_AND_SPILL	20797437000
+SPILL	QUICK_SORT	10182228000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10559444000
+SPILL	WRITE	5261718000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11886484
+SPILL	COMPRESS_BYTE_COUNT	4672611
+SPILL	SORT_AND_SPILL	21970432000
+SPILL	QUICK_SORT	11173181000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	10647374000
+SPILL	WRITE	5582010000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11846679
+SPILL	COMPRESS_BYTE_COUNT	4641988
+SPILL	SORT_AND_SPILL	21234748000
+SPILL	QUICK_SORT	10836596000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10341740000
+SPILL	WRITE	5493763000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11608940
+SPILL	COMPRESS_BYTE_COUNT	4603827
+SPILL	SORT_AND_SPILL	21472344000
+SPILL	QUICK_SORT	10007380000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10371940000
+SPILL	WRITE	5295376000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11649062
+SPILL	COMPRESS_BYTE_COUNT	4609561
+SPILL	SORT_AND_SPILL	21538631000
+SPILL	QUICK_SORT	10733182000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10750492000
+SPILL	WRITE	5457163000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11780784
+SPILL	COMPRESS_BYTE_COUNT	4626652
+SPILL	SORT_AND_SPILL	21023995000
+SPILL	QUICK_SORT	10700661000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10184138000
+SPILL	WRITE	5230999000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11341944
+SPILL	COMPRESS_BYTE_COUNT	4427416
+SPILL	SORT_AND_SPILL	21303016000
+SPILL	QUICK_SORT	10644884000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	10601568000
+SPILL	WRITE	5459345000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11834758
+SPILL	COMPRESS_BYTE_COUNT	4619409
+SPILL	SORT_AND_SPILL	24212325000
+SPILL	QUICK_SORT	11971013000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	12121406000
+SPILL	WRITE	6039126000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11534682
+SPILL	COMPRESS_BYTE_COUNT	4528957
+SPILL	SORT_AND_SPILL	20157541000
+SPILL	QUICK_SORT	10002667000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10104553000
+SPILL	WRITE	5166025000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11497080
+SPILL	COMPRESS_BYTE_COUNT	4464579
+SPILL	SORT_AND_SPILL	20544358000
+SPILL	QUICK_SORT	9731429000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10651536000
+SPILL	WRITE	5518521000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11847619
+SPILL	COMPRESS_BYTE_COUNT	4672043
+SPILL	SORT_AND_SPILL	24168237000
+SPILL	QUICK_SORT	10177677000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	13935433000
+SPILL	WRITE	6804639000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11790637
+SPILL	COMPRESS_BYTE_COUNT	4600117
+SPILL	SORT_AND_SPILL	21092067102
+SPILL	QUICK_SORT	10092260102
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	10864301000
+SPILL	WRITE	5561209000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11751537
+SPILL	COMPRESS_BYTE_COUNT	4584729
+SPILL	SORT_AND_SPILL	23288206000
+SPILL	QUICK_SORT	9586180000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	13630472000
+SPILL	WRITE	6747029000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11775566
+SPILL	COMPRESS_BYTE_COUNT	4593753
+SPILL	SORT_AND_SPILL	22289889000
+SPILL	QUICK_SORT	10070925000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11778015000
+SPILL	WRITE	5784439000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11783045
+SPILL	COMPRESS_BYTE_COUNT	4596661
+SPILL	SORT_AND_SPILL	21543875000
+SPILL	QUICK_SORT	10380438000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11114767000
+SPILL	WRITE	5662548000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11038444
+SPILL	COMPRESS_BYTE_COUNT	4397118
+SPILL	SORT_AND_SPILL	20818645000
+SPILL	QUICK_SORT	9543838000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10246189000
+SPILL	WRITE	5321471000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11854348
+SPILL	COMPRESS_BYTE_COUNT	4694388
+SPILL	SORT_AND_SPILL	20327896000
+SPILL	QUICK_SORT	9591982000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	10684878000
+SPILL	WRITE	5428715000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11468500
+SPILL	COMPRESS_BYTE_COUNT	4521747
+SPILL	SORT_AND_SPILL	21511511000
+SPILL	QUICK_SORT	9538587000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11409487000
+SPILL	WRITE	5773982000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11620754
+SPILL	COMPRESS_BYTE_COUNT	4542415
+MAP	CLEANUP	53000
+MAP	CLEANUP_MEM	248338000
+MAP	TOTAL_RUN	535193269102
+MAP	READ	489901000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	100894
+MAP	VALUE_BYTE_COUNT	28725378
+MAP	MAP	534642313102
+MAP	WRITE	497974090102
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	17365505000
+MAP	SERIALIZE_OUTPUT	410714669102
+MAP	MAP_MEM	248338000
+SPILL	SORT_AND_SPILL	7045016000
+SPILL	QUICK_SORT	3081920000
+SPILL	SORT_COUNT	306710
+SPILL	COMBINE	3933324000
+SPILL	WRITE	2042375000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	4546194
+SPILL	COMPRESS_BYTE_COUNT	1785190
+MERGE	TOTAL_MERGE	220805636000
+MERGE	READ_WRITE	219884929000
+MERGE	READ_WRITE_COUNT	81
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	763494301102
@@ -0,0 +1,195 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt/part-00120	0
+MAP	STARTUP_MEM	213916928
+MAP	SETUP	527000
+MAP	SETUP_MEM	213916928
+SPILL	SORT_AND_SPILL	24381001000
+SPILL	QUICK_SORT	11774877000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	11601397000
+SPILL	WRITE	5839270000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11710868
+SPILL	COMPRESS_BYTE_COUNT	4614127
+SPILL	SORT_AND_SPILL	21855774000
+SPILL	QUICK_SORT	11384151000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10418031000
+SPILL	WRITE	5259730000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11438104
+SPILL	COMPRESS_BYTE_COUNT	4504119
+SPILL	SORT_AND_SPILL	24481877914
+SPILL	QUICK_SORT	13773746000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10516078914
+SPILL	WRITE	5287285000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11546192
+SPILL	COMPRESS_BYTE_COUNT	4516484
+SPILL	SORT_AND_SPILL	22563703000
+SPILL	QUICK_SORT	11943582000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10562474000
+SPILL	WRITE	5433006000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11865194
+SPILL	COMPRESS_BYTE_COUNT	4675259
+SPILL	SORT_AND_SPILL	22233252000
+SPILL	QUICK_SORT	10945289000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	10463387000
+SPILL	WRITE	5217179000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11723864
+SPILL	COMPRESS_BYTE_COUNT	4597091
+SPILL	SORT_AND_SPILL	21433647000
+SPILL	QUICK_SORT	11074835000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10303524000
+SPILL	WRITE	5194563000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	10681096
+SPILL	COMPRESS_BYTE_COUNT	4193542
+SPILL	SORT_AND_SPILL	23254774000
+SPILL	QUICK_SORT	11446196000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11638876000
+SPILL	WRITE	6137724000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11838247
+SPILL	COMPRESS_BYTE_COUNT	4629665
+SPILL	SORT_AND_SPILL	22763604000
+SPILL	QUICK_SORT	10921356000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11784957000
+SPILL	WRITE	5741246000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11508195
+SPILL	COMPRESS_BYTE_COUNT	4501208
+SPILL	SORT_AND_SPILL	22972430000
+SPILL	QUICK_SORT	9668581000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11986247000
+SPILL	WRITE	6174899000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11359824
+SPILL	COMPRESS_BYTE_COUNT	4433172
+SPILL	SORT_AND_SPILL	20407973000
+SPILL	QUICK_SORT	9731743000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	10628339000
+SPILL	WRITE	5310974000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11042060
+SPILL	COMPRESS_BYTE_COUNT	4336998
+SPILL	SORT_AND_SPILL	23103445000
+SPILL	QUICK_SORT	9841100000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	12872317000
+SPILL	WRITE	7002210000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11418632
+SPILL	COMPRESS_BYTE_COUNT	4478982
+SPILL	SORT_AND_SPILL	22365097000
+SPILL	QUICK_SORT	10213098000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	12099713000
+SPILL	WRITE	6320671000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11308879
+SPILL	COMPRESS_BYTE_COUNT	4408368
+SPILL	SORT_AND_SPILL	20538873000
+SPILL	QUICK_SORT	10568653000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	9824598000
+SPILL	WRITE	4846826000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	10648226
+SPILL	COMPRESS_BYTE_COUNT	4172138
+SPILL	SORT_AND_SPILL	20024917000
+SPILL	QUICK_SORT	10023873000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	9932212000
+SPILL	WRITE	5102488000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11222177
+SPILL	COMPRESS_BYTE_COUNT	4408314
+SPILL	SORT_AND_SPILL	21597917000
+SPILL	QUICK_SORT	10010692000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	10814669000
+SPILL	WRITE	5516980000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11649670
+SPILL	COMPRESS_BYTE_COUNT	4580403
+SPILL	SORT_AND_SPILL	21408175000
+SPILL	QUICK_SORT	11084731000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10263536000
+SPILL	WRITE	5172325000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11539627
+SPILL	COMPRESS_BYTE_COUNT	4572208
+SPILL	SORT_AND_SPILL	20595057000
+SPILL	QUICK_SORT	10245559000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10236288000
+SPILL	WRITE	5163597000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	10559841
+SPILL	COMPRESS_BYTE_COUNT	4143076
+SPILL	SORT_AND_SPILL	20415360000
+SPILL	QUICK_SORT	9544265000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10820247000
+SPILL	WRITE	5381067000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11323082
+SPILL	COMPRESS_BYTE_COUNT	4441460
+SPILL	SORT_AND_SPILL	17616257000
+SPILL	QUICK_SORT	9228096000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	8274022000
+SPILL	WRITE	3979540000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	8944748
+SPILL	COMPRESS_BYTE_COUNT	3517236
+MAP	CLEANUP	113000
+MAP	CLEANUP_MEM	236350192
+MAP	TOTAL_RUN	498609277914
+MAP	READ	1000676000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	129392
+MAP	VALUE_BYTE_COUNT	27166383
+MAP	MAP	495721397914
+MAP	WRITE	470754411914
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	18424374000
+MAP	SERIALIZE_OUTPUT	398300320914
+MAP	MAP_MEM	236350192
+SPILL	SORT_AND_SPILL	21334589000
+SPILL	QUICK_SORT	9808148000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	11479537000
+SPILL	WRITE	5742002000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	10720450
+SPILL	COMPRESS_BYTE_COUNT	4227061
+SPILL	SORT_AND_SPILL	2978125000
+SPILL	QUICK_SORT	1283309000
+SPILL	SORT_COUNT	132963
+SPILL	COMBINE	1619115000
+SPILL	WRITE	894228000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	2046012
+SPILL	COMPRESS_BYTE_COUNT	785154
+MERGE	TOTAL_MERGE	193858790000
+MERGE	READ_WRITE	193078035000
+MERGE	READ_WRITE_COUNT	81
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	716721463914
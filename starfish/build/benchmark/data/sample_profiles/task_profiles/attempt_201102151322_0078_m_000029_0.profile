@@ -0,0 +1,171 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt/part-00114	0
+MAP	STARTUP_MEM	213952520
+MAP	SETUP	503000
+MAP	SETUP_MEM	213952520
+SPILL	SORT_AND_SPILL	19150812000
+SPILL	QUICK_SORT	9463946000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	9491831000
+SPILL	WRITE	4541540000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	9714936
+SPILL	COMPRESS_BYTE_COUNT	3855238
+SPILL	SORT_AND_SPILL	18901129000
+SPILL	QUICK_SORT	9933648000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	8911404000
+SPILL	WRITE	4367354000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	9245411
+SPILL	COMPRESS_BYTE_COUNT	3684145
+SPILL	SORT_AND_SPILL	19090283000
+SPILL	QUICK_SORT	8702261000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10103283000
+SPILL	WRITE	4521180000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	8922867
+SPILL	COMPRESS_BYTE_COUNT	3523714
+SPILL	SORT_AND_SPILL	22161116000
+SPILL	QUICK_SORT	11401639000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10692786000
+SPILL	WRITE	5402568000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	10294773
+SPILL	COMPRESS_BYTE_COUNT	4068084
+SPILL	SORT_AND_SPILL	21779277000
+SPILL	QUICK_SORT	9898497000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	10988095000
+SPILL	WRITE	5747453000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	10716744
+SPILL	COMPRESS_BYTE_COUNT	4256475
+SPILL	SORT_AND_SPILL	17998585000
+SPILL	QUICK_SORT	9658351000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	8273524000
+SPILL	WRITE	4024758000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	8684005
+SPILL	COMPRESS_BYTE_COUNT	3460326
+SPILL	SORT_AND_SPILL	21450837000
+SPILL	QUICK_SORT	11309512000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10016555000
+SPILL	WRITE	5120457000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11036220
+SPILL	COMPRESS_BYTE_COUNT	4353118
+SPILL	SORT_AND_SPILL	22758803000
+SPILL	QUICK_SORT	11678341000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	11027768000
+SPILL	WRITE	5093557000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11116467
+SPILL	COMPRESS_BYTE_COUNT	4400774
+SPILL	SORT_AND_SPILL	20359737000
+SPILL	QUICK_SORT	10789012000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	9008499000
+SPILL	WRITE	4497391000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	9963115
+SPILL	COMPRESS_BYTE_COUNT	3897102
+SPILL	SORT_AND_SPILL	21878489000
+SPILL	QUICK_SORT	11761258000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	10065564000
+SPILL	WRITE	5179822000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11258957
+SPILL	COMPRESS_BYTE_COUNT	4410410
+SPILL	SORT_AND_SPILL	22405187000
+SPILL	QUICK_SORT	11103489000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10507445000
+SPILL	WRITE	5409469000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11851861
+SPILL	COMPRESS_BYTE_COUNT	4658295
+SPILL	SORT_AND_SPILL	20885799000
+SPILL	QUICK_SORT	11430520000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	9393108000
+SPILL	WRITE	4736802000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	10197892
+SPILL	COMPRESS_BYTE_COUNT	4008847
+SPILL	SORT_AND_SPILL	22755579000
+SPILL	QUICK_SORT	11804804000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10287438000
+SPILL	WRITE	5096038000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	10921382
+SPILL	COMPRESS_BYTE_COUNT	4290375
+SPILL	SORT_AND_SPILL	23008800000
+SPILL	QUICK_SORT	12507415000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10430858000
+SPILL	WRITE	5371110000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11894554
+SPILL	COMPRESS_BYTE_COUNT	4659521
+SPILL	SORT_AND_SPILL	22323888000
+SPILL	QUICK_SORT	11794115000
+SPILL	SORT_COUNT	838860
+SPILL	COMBINE	10407920000
+SPILL	WRITE	5262510000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	11671363
+SPILL	COMPRESS_BYTE_COUNT	4592462
+SPILL	SORT_AND_SPILL	23161187000
+SPILL	QUICK_SORT	12728463000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	10368554000
+SPILL	WRITE	5492218000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12074040
+SPILL	COMPRESS_BYTE_COUNT	4606687
+SPILL	SORT_AND_SPILL	16980806000
+SPILL	QUICK_SORT	7915493000
+SPILL	SORT_COUNT	838859
+SPILL	COMBINE	8550741000
+SPILL	WRITE	3865015000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	8316316
+SPILL	COMPRESS_BYTE_COUNT	3269037
+MAP	CLEANUP	52000
+MAP	CLEANUP_MEM	265401832
+MAP	TOTAL_RUN	428042035000
+MAP	READ	1624054000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	117648
+MAP	VALUE_BYTE_COUNT	23985066
+MAP	MAP	426337895000
+MAP	WRITE	409567778000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	14220935000
+MAP	SERIALIZE_OUTPUT	326965193000
+MAP	MAP_MEM	265401832
+SPILL	SORT_AND_SPILL	15622059000
+SPILL	QUICK_SORT	7399496000
+SPILL	SORT_COUNT	634495
+SPILL	COMBINE	8179821000
+SPILL	WRITE	4199726000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	9118443
+SPILL	COMPRESS_BYTE_COUNT	3576586
+MERGE	TOTAL_MERGE	168112673007
+MERGE	READ_WRITE	167535813007
+MERGE	READ_WRITE_COUNT	54
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	612235279007
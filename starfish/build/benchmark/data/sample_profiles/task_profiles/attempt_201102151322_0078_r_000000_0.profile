@@ -0,0 +1,149 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	6952026
+SHUFFLE	COMPRESS_BYTE_COUNT	2166764
+SHUFFLE	COPY_MAP_DATA	176907000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	8371258
+SHUFFLE	COMPRESS_BYTE_COUNT	2536568
+SHUFFLE	COPY_MAP_DATA	184275000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9228796
+SHUFFLE	COMPRESS_BYTE_COUNT	2779374
+SHUFFLE	COPY_MAP_DATA	334335000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9593150
+SHUFFLE	COMPRESS_BYTE_COUNT	2860996
+SHUFFLE	COPY_MAP_DATA	206326000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9809484
+SHUFFLE	COMPRESS_BYTE_COUNT	2963475
+SHUFFLE	COPY_MAP_DATA	172211000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10302418
+SHUFFLE	COMPRESS_BYTE_COUNT	3037261
+SHUFFLE	COPY_MAP_DATA	183794000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10183838
+SHUFFLE	COMPRESS_BYTE_COUNT	3043468
+SHUFFLE	COPY_MAP_DATA	251608000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10592088
+SHUFFLE	COMPRESS_BYTE_COUNT	3136538
+SHUFFLE	COPY_MAP_DATA	194382000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10238206
+SHUFFLE	COMPRESS_BYTE_COUNT	3040947
+SHUFFLE	COPY_MAP_DATA	237909000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10747018
+SHUFFLE	COMPRESS_BYTE_COUNT	3159752
+SHUFFLE	COPY_MAP_DATA	176567000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10349476
+SHUFFLE	COMPRESS_BYTE_COUNT	3088099
+SHUFFLE	COPY_MAP_DATA	182770000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11954130
+SHUFFLE	COMPRESS_BYTE_COUNT	3455871
+SHUFFLE	COPY_MAP_DATA	388970000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11647666
+SHUFFLE	COMPRESS_BYTE_COUNT	3400749
+SHUFFLE	COPY_MAP_DATA	194391000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10547246
+SHUFFLE	COMPRESS_BYTE_COUNT	3133923
+SHUFFLE	COPY_MAP_DATA	174959000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10687098
+SHUFFLE	COMPRESS_BYTE_COUNT	3139187
+SHUFFLE	COPY_MAP_DATA	165245000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10479723
+SHUFFLE	COMPRESS_BYTE_COUNT	3086930
+SHUFFLE	COPY_MAP_DATA	225521000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12095996
+SHUFFLE	COMPRESS_BYTE_COUNT	3467330
+SHUFFLE	COPY_MAP_DATA	164109000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12455482
+SHUFFLE	COMPRESS_BYTE_COUNT	3629689
+SHUFFLE	COPY_MAP_DATA	181117000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11212042
+SHUFFLE	COMPRESS_BYTE_COUNT	3288914
+SHUFFLE	COPY_MAP_DATA	369255000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12737488
+SHUFFLE	COMPRESS_BYTE_COUNT	3686599
+SHUFFLE	COPY_MAP_DATA	173783000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12228697
+SHUFFLE	COMPRESS_BYTE_COUNT	3550784
+SHUFFLE	COPY_MAP_DATA	416734000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11687854
+SHUFFLE	COMPRESS_BYTE_COUNT	3420725
+SHUFFLE	COPY_MAP_DATA	260757000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12557208
+SHUFFLE	COMPRESS_BYTE_COUNT	3651241
+SHUFFLE	COPY_MAP_DATA	212587000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13367147
+SHUFFLE	COMPRESS_BYTE_COUNT	3836371
+SHUFFLE	COPY_MAP_DATA	213663000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12995736
+SHUFFLE	COMPRESS_BYTE_COUNT	3750617
+SHUFFLE	COPY_MAP_DATA	301865000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12955886
+SHUFFLE	COMPRESS_BYTE_COUNT	3737627
+SHUFFLE	COPY_MAP_DATA	219996000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13056583
+SHUFFLE	COMPRESS_BYTE_COUNT	3773008
+SHUFFLE	COPY_MAP_DATA	302531000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12914942
+SHUFFLE	COMPRESS_BYTE_COUNT	3720076
+SHUFFLE	COPY_MAP_DATA	247032000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13658100
+SHUFFLE	COMPRESS_BYTE_COUNT	3892831
+SHUFFLE	COPY_MAP_DATA	658213000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13721314
+SHUFFLE	COMPRESS_BYTE_COUNT	3894066
+SHUFFLE	COPY_MAP_DATA	236459000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	141240531000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	COMBINE	141013604000
+MERGE	WRITE	60101861000
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	34559698000
+SORT	READ_WRITE	34475451000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	91211840
+REDUCE	SETUP	342000
+REDUCE	SETUP_MEM	91211840
+REDUCE	CLEANUP	37000
+REDUCE	CLEANUP_MEM	115605784
+REDUCE	TOTAL_RUN	161846999000
+REDUCE	READ	23925785000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	104194955000
+REDUCE	WRITE	71485952000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	115457728
+REDUCE	VALUE_BYTE_COUNT	6903047
+REDUCE	REDUCE_MEM	115605784
+REDUCE	WRITE	53744000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	947699277000
@@ -0,0 +1,149 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	8370910
+SHUFFLE	COMPRESS_BYTE_COUNT	2534090
+SHUFFLE	COPY_MAP_DATA	1507248000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	6900890
+SHUFFLE	COMPRESS_BYTE_COUNT	2150403
+SHUFFLE	COPY_MAP_DATA	592170000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9216240
+SHUFFLE	COMPRESS_BYTE_COUNT	2776700
+SHUFFLE	COPY_MAP_DATA	230196000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9570118
+SHUFFLE	COMPRESS_BYTE_COUNT	2858308
+SHUFFLE	COPY_MAP_DATA	330546000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9814948
+SHUFFLE	COMPRESS_BYTE_COUNT	2969747
+SHUFFLE	COPY_MAP_DATA	212379000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10367617
+SHUFFLE	COMPRESS_BYTE_COUNT	3053862
+SHUFFLE	COPY_MAP_DATA	180714000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10218532
+SHUFFLE	COMPRESS_BYTE_COUNT	3059966
+SHUFFLE	COPY_MAP_DATA	305173000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10598709
+SHUFFLE	COMPRESS_BYTE_COUNT	3141945
+SHUFFLE	COPY_MAP_DATA	271385000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10209154
+SHUFFLE	COMPRESS_BYTE_COUNT	3035516
+SHUFFLE	COPY_MAP_DATA	205098000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10744782
+SHUFFLE	COMPRESS_BYTE_COUNT	3155637
+SHUFFLE	COPY_MAP_DATA	181911000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10316383
+SHUFFLE	COMPRESS_BYTE_COUNT	3087179
+SHUFFLE	COPY_MAP_DATA	224815000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10511386
+SHUFFLE	COMPRESS_BYTE_COUNT	3117083
+SHUFFLE	COPY_MAP_DATA	312165000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11659353
+SHUFFLE	COMPRESS_BYTE_COUNT	3397305
+SHUFFLE	COPY_MAP_DATA	173098000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11958528
+SHUFFLE	COMPRESS_BYTE_COUNT	3462991
+SHUFFLE	COPY_MAP_DATA	782585000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10701156
+SHUFFLE	COMPRESS_BYTE_COUNT	3142885
+SHUFFLE	COPY_MAP_DATA	174434000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10436567
+SHUFFLE	COMPRESS_BYTE_COUNT	3077779
+SHUFFLE	COPY_MAP_DATA	653382000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12020195
+SHUFFLE	COMPRESS_BYTE_COUNT	3447841
+SHUFFLE	COPY_MAP_DATA	320018000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11183851
+SHUFFLE	COMPRESS_BYTE_COUNT	3292102
+SHUFFLE	COPY_MAP_DATA	177864000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12472768
+SHUFFLE	COMPRESS_BYTE_COUNT	3627949
+SHUFFLE	COPY_MAP_DATA	308151000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12764198
+SHUFFLE	COMPRESS_BYTE_COUNT	3689453
+SHUFFLE	COPY_MAP_DATA	194304000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12186630
+SHUFFLE	COMPRESS_BYTE_COUNT	3540844
+SHUFFLE	COPY_MAP_DATA	239701000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11701028
+SHUFFLE	COMPRESS_BYTE_COUNT	3415790
+SHUFFLE	COPY_MAP_DATA	695548000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12605273
+SHUFFLE	COMPRESS_BYTE_COUNT	3659251
+SHUFFLE	COPY_MAP_DATA	395839000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13363394
+SHUFFLE	COMPRESS_BYTE_COUNT	3838512
+SHUFFLE	COPY_MAP_DATA	207203000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12968000
+SHUFFLE	COMPRESS_BYTE_COUNT	3748626
+SHUFFLE	COPY_MAP_DATA	233351000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12861962
+SHUFFLE	COMPRESS_BYTE_COUNT	3709476
+SHUFFLE	COPY_MAP_DATA	175664000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12966454
+SHUFFLE	COMPRESS_BYTE_COUNT	3751488
+SHUFFLE	COPY_MAP_DATA	286096000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12868736
+SHUFFLE	COMPRESS_BYTE_COUNT	3714227
+SHUFFLE	COPY_MAP_DATA	244350000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13650831
+SHUFFLE	COMPRESS_BYTE_COUNT	3893127
+SHUFFLE	COPY_MAP_DATA	226712000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13677948
+SHUFFLE	COMPRESS_BYTE_COUNT	3889712
+SHUFFLE	COPY_MAP_DATA	388272000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	145697595000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	COMBINE	145489277000
+MERGE	WRITE	62592569000
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	28962545000
+SORT	READ_WRITE	28854204000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	77688952
+REDUCE	SETUP	337000
+REDUCE	SETUP_MEM	77688952
+REDUCE	CLEANUP	31000
+REDUCE	CLEANUP_MEM	116673912
+REDUCE	TOTAL_RUN	155789142000
+REDUCE	READ	22324009000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	100623041000
+REDUCE	WRITE	70679038000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	115384112
+REDUCE	VALUE_BYTE_COUNT	6900075
+REDUCE	REDUCE_MEM	116675960
+REDUCE	WRITE	27267000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	927288530000
@@ -0,0 +1,149 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	6914644
+SHUFFLE	COMPRESS_BYTE_COUNT	2156178
+SHUFFLE	COPY_MAP_DATA	761528000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	8365654
+SHUFFLE	COMPRESS_BYTE_COUNT	2537461
+SHUFFLE	COPY_MAP_DATA	195324000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9184306
+SHUFFLE	COMPRESS_BYTE_COUNT	2763536
+SHUFFLE	COPY_MAP_DATA	463187000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9586726
+SHUFFLE	COMPRESS_BYTE_COUNT	2863679
+SHUFFLE	COPY_MAP_DATA	235810000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9779695
+SHUFFLE	COMPRESS_BYTE_COUNT	2957997
+SHUFFLE	COPY_MAP_DATA	973042000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10294400
+SHUFFLE	COMPRESS_BYTE_COUNT	3043339
+SHUFFLE	COPY_MAP_DATA	419581000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10213054
+SHUFFLE	COMPRESS_BYTE_COUNT	3056384
+SHUFFLE	COPY_MAP_DATA	238939000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10538030
+SHUFFLE	COMPRESS_BYTE_COUNT	3125614
+SHUFFLE	COPY_MAP_DATA	516011000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10716582
+SHUFFLE	COMPRESS_BYTE_COUNT	3152481
+SHUFFLE	COPY_MAP_DATA	1930153000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10253334
+SHUFFLE	COMPRESS_BYTE_COUNT	3049046
+SHUFFLE	COPY_MAP_DATA	1791736000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10297348
+SHUFFLE	COMPRESS_BYTE_COUNT	3081008
+SHUFFLE	COPY_MAP_DATA	172318000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11647655
+SHUFFLE	COMPRESS_BYTE_COUNT	3397753
+SHUFFLE	COPY_MAP_DATA	237381000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10522855
+SHUFFLE	COMPRESS_BYTE_COUNT	3123307
+SHUFFLE	COPY_MAP_DATA	168694000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10651112
+SHUFFLE	COMPRESS_BYTE_COUNT	3120297
+SHUFFLE	COPY_MAP_DATA	264936000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11941268
+SHUFFLE	COMPRESS_BYTE_COUNT	3456931
+SHUFFLE	COPY_MAP_DATA	377293000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10422198
+SHUFFLE	COMPRESS_BYTE_COUNT	3076347
+SHUFFLE	COPY_MAP_DATA	247067000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12034082
+SHUFFLE	COMPRESS_BYTE_COUNT	3452018
+SHUFFLE	COPY_MAP_DATA	210100000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12494419
+SHUFFLE	COMPRESS_BYTE_COUNT	3641922
+SHUFFLE	COPY_MAP_DATA	370133000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11204930
+SHUFFLE	COMPRESS_BYTE_COUNT	3293649
+SHUFFLE	COPY_MAP_DATA	625479000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12670856
+SHUFFLE	COMPRESS_BYTE_COUNT	3669803
+SHUFFLE	COPY_MAP_DATA	772388000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12164902
+SHUFFLE	COMPRESS_BYTE_COUNT	3536772
+SHUFFLE	COPY_MAP_DATA	15421706000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11696884
+SHUFFLE	COMPRESS_BYTE_COUNT	3426356
+SHUFFLE	COPY_MAP_DATA	445269000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12547940
+SHUFFLE	COMPRESS_BYTE_COUNT	3645951
+SHUFFLE	COPY_MAP_DATA	352455000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13308789
+SHUFFLE	COMPRESS_BYTE_COUNT	3831035
+SHUFFLE	COPY_MAP_DATA	980467000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12962528
+SHUFFLE	COMPRESS_BYTE_COUNT	3747119
+SHUFFLE	COPY_MAP_DATA	240872000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12834865
+SHUFFLE	COMPRESS_BYTE_COUNT	3703974
+SHUFFLE	COPY_MAP_DATA	193422000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12993488
+SHUFFLE	COMPRESS_BYTE_COUNT	3760913
+SHUFFLE	COPY_MAP_DATA	400030000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12851972
+SHUFFLE	COMPRESS_BYTE_COUNT	3710191
+SHUFFLE	COPY_MAP_DATA	225505000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13614084
+SHUFFLE	COMPRESS_BYTE_COUNT	3879957
+SHUFFLE	COPY_MAP_DATA	233244000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13623000
+SHUFFLE	COMPRESS_BYTE_COUNT	3873627
+SHUFFLE	COPY_MAP_DATA	466072000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	250107425000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	COMBINE	248415857000
+MERGE	WRITE	87093909000
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	32392703000
+SORT	READ_WRITE	32301979000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	120043224
+REDUCE	SETUP	345000
+REDUCE	SETUP_MEM	120043224
+REDUCE	CLEANUP	46000
+REDUCE	CLEANUP_MEM	89615640
+REDUCE	TOTAL_RUN	174704747000
+REDUCE	READ	26046982000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	111210123000
+REDUCE	WRITE	78124482000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	115395830
+REDUCE	VALUE_BYTE_COUNT	6900008
+REDUCE	REDUCE_MEM	89615640
+REDUCE	WRITE	17045000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	950101477000
@@ -0,0 +1,149 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	8364506
+SHUFFLE	COMPRESS_BYTE_COUNT	2536004
+SHUFFLE	COPY_MAP_DATA	2622757000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	6902146
+SHUFFLE	COMPRESS_BYTE_COUNT	2145586
+SHUFFLE	COPY_MAP_DATA	265108000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9215328
+SHUFFLE	COMPRESS_BYTE_COUNT	2770951
+SHUFFLE	COPY_MAP_DATA	613295000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9630696
+SHUFFLE	COMPRESS_BYTE_COUNT	2874017
+SHUFFLE	COPY_MAP_DATA	206263000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9799860
+SHUFFLE	COMPRESS_BYTE_COUNT	2958130
+SHUFFLE	COPY_MAP_DATA	223422000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10350452
+SHUFFLE	COMPRESS_BYTE_COUNT	3053609
+SHUFFLE	COPY_MAP_DATA	400675000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10226327
+SHUFFLE	COMPRESS_BYTE_COUNT	3054066
+SHUFFLE	COPY_MAP_DATA	447627000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10551254
+SHUFFLE	COMPRESS_BYTE_COUNT	3122512
+SHUFFLE	COPY_MAP_DATA	204264000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10747916
+SHUFFLE	COMPRESS_BYTE_COUNT	3155617
+SHUFFLE	COPY_MAP_DATA	286716000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10249154
+SHUFFLE	COMPRESS_BYTE_COUNT	3050585
+SHUFFLE	COPY_MAP_DATA	278970000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10276710
+SHUFFLE	COMPRESS_BYTE_COUNT	3070699
+SHUFFLE	COPY_MAP_DATA	910159000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10545452
+SHUFFLE	COMPRESS_BYTE_COUNT	3128368
+SHUFFLE	COPY_MAP_DATA	704878000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11972824
+SHUFFLE	COMPRESS_BYTE_COUNT	3458706
+SHUFFLE	COPY_MAP_DATA	215365000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11670777
+SHUFFLE	COMPRESS_BYTE_COUNT	3400943
+SHUFFLE	COPY_MAP_DATA	689347000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10716474
+SHUFFLE	COMPRESS_BYTE_COUNT	3146553
+SHUFFLE	COPY_MAP_DATA	194257000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10472418
+SHUFFLE	COMPRESS_BYTE_COUNT	3084572
+SHUFFLE	COPY_MAP_DATA	356328000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12049784
+SHUFFLE	COMPRESS_BYTE_COUNT	3462696
+SHUFFLE	COPY_MAP_DATA	1221981000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12489507
+SHUFFLE	COMPRESS_BYTE_COUNT	3628446
+SHUFFLE	COPY_MAP_DATA	198676000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11193799
+SHUFFLE	COMPRESS_BYTE_COUNT	3294306
+SHUFFLE	COPY_MAP_DATA	259461000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12764222
+SHUFFLE	COMPRESS_BYTE_COUNT	3687069
+SHUFFLE	COPY_MAP_DATA	1344416000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12232964
+SHUFFLE	COMPRESS_BYTE_COUNT	3553254
+SHUFFLE	COPY_MAP_DATA	1457388000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12595770
+SHUFFLE	COMPRESS_BYTE_COUNT	3648875
+SHUFFLE	COPY_MAP_DATA	557006000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11670806
+SHUFFLE	COMPRESS_BYTE_COUNT	3412442
+SHUFFLE	COPY_MAP_DATA	443897000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13393076
+SHUFFLE	COMPRESS_BYTE_COUNT	3841251
+SHUFFLE	COPY_MAP_DATA	248815000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13043412
+SHUFFLE	COMPRESS_BYTE_COUNT	3761182
+SHUFFLE	COPY_MAP_DATA	331227000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12933694
+SHUFFLE	COMPRESS_BYTE_COUNT	3729940
+SHUFFLE	COPY_MAP_DATA	235365000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13045214
+SHUFFLE	COMPRESS_BYTE_COUNT	3775071
+SHUFFLE	COPY_MAP_DATA	206208000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12873356
+SHUFFLE	COMPRESS_BYTE_COUNT	3708410
+SHUFFLE	COPY_MAP_DATA	213611000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13663376
+SHUFFLE	COMPRESS_BYTE_COUNT	3888146
+SHUFFLE	COPY_MAP_DATA	307430000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13679232
+SHUFFLE	COMPRESS_BYTE_COUNT	3877412
+SHUFFLE	COPY_MAP_DATA	284136000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	191920780000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	COMBINE	191123458000
+MERGE	WRITE	76364817000
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	32227971000
+SORT	READ_WRITE	32103846000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	133291416
+REDUCE	SETUP	30429000
+REDUCE	SETUP_MEM	133291416
+REDUCE	CLEANUP	48000
+REDUCE	CLEANUP_MEM	121291176
+REDUCE	TOTAL_RUN	168517944000
+REDUCE	READ	25620275000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	108686757000
+REDUCE	WRITE	76214522000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	115361184
+REDUCE	VALUE_BYTE_COUNT	6897412
+REDUCE	REDUCE_MEM	121293224
+REDUCE	WRITE	18271000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	947222294297
@@ -0,0 +1,149 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	6964298
+SHUFFLE	COMPRESS_BYTE_COUNT	2162272
+SHUFFLE	COPY_MAP_DATA	2542887000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	8452644
+SHUFFLE	COMPRESS_BYTE_COUNT	2549545
+SHUFFLE	COPY_MAP_DATA	1254915000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9264624
+SHUFFLE	COMPRESS_BYTE_COUNT	2779395
+SHUFFLE	COPY_MAP_DATA	386831000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9682742
+SHUFFLE	COMPRESS_BYTE_COUNT	2882830
+SHUFFLE	COPY_MAP_DATA	1237599000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9848724
+SHUFFLE	COMPRESS_BYTE_COUNT	2963635
+SHUFFLE	COPY_MAP_DATA	258592000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10371310
+SHUFFLE	COMPRESS_BYTE_COUNT	3048788
+SHUFFLE	COPY_MAP_DATA	319045000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10241404
+SHUFFLE	COMPRESS_BYTE_COUNT	3054050
+SHUFFLE	COPY_MAP_DATA	1518433000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10626683
+SHUFFLE	COMPRESS_BYTE_COUNT	3134562
+SHUFFLE	COPY_MAP_DATA	761018000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10301226
+SHUFFLE	COMPRESS_BYTE_COUNT	3050319
+SHUFFLE	COPY_MAP_DATA	167130000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10877360
+SHUFFLE	COMPRESS_BYTE_COUNT	3181403
+SHUFFLE	COPY_MAP_DATA	189158000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10391480
+SHUFFLE	COMPRESS_BYTE_COUNT	3094809
+SHUFFLE	COPY_MAP_DATA	205066000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12053010
+SHUFFLE	COMPRESS_BYTE_COUNT	3469395
+SHUFFLE	COPY_MAP_DATA	262939000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10568048
+SHUFFLE	COMPRESS_BYTE_COUNT	3120982
+SHUFFLE	COPY_MAP_DATA	463845000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11756224
+SHUFFLE	COMPRESS_BYTE_COUNT	3413423
+SHUFFLE	COPY_MAP_DATA	191815000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10728784
+SHUFFLE	COMPRESS_BYTE_COUNT	3134677
+SHUFFLE	COPY_MAP_DATA	173530000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10532880
+SHUFFLE	COMPRESS_BYTE_COUNT	3094197
+SHUFFLE	COPY_MAP_DATA	940486000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12149558
+SHUFFLE	COMPRESS_BYTE_COUNT	3468884
+SHUFFLE	COPY_MAP_DATA	183165000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11234201
+SHUFFLE	COMPRESS_BYTE_COUNT	3285947
+SHUFFLE	COPY_MAP_DATA	591005000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12546160
+SHUFFLE	COMPRESS_BYTE_COUNT	3641922
+SHUFFLE	COPY_MAP_DATA	189005000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12875552
+SHUFFLE	COMPRESS_BYTE_COUNT	3704580
+SHUFFLE	COPY_MAP_DATA	219328000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12239188
+SHUFFLE	COMPRESS_BYTE_COUNT	3539667
+SHUFFLE	COPY_MAP_DATA	1575663000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12637765
+SHUFFLE	COMPRESS_BYTE_COUNT	3659129
+SHUFFLE	COPY_MAP_DATA	1431441000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11803320
+SHUFFLE	COMPRESS_BYTE_COUNT	3435936
+SHUFFLE	COPY_MAP_DATA	588036000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13473018
+SHUFFLE	COMPRESS_BYTE_COUNT	3863535
+SHUFFLE	COPY_MAP_DATA	195365000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13100825
+SHUFFLE	COMPRESS_BYTE_COUNT	3764206
+SHUFFLE	COPY_MAP_DATA	199540000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12989210
+SHUFFLE	COMPRESS_BYTE_COUNT	3734277
+SHUFFLE	COPY_MAP_DATA	661171000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13108687
+SHUFFLE	COMPRESS_BYTE_COUNT	3774883
+SHUFFLE	COPY_MAP_DATA	252861000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12942732
+SHUFFLE	COMPRESS_BYTE_COUNT	3716823
+SHUFFLE	COPY_MAP_DATA	264689000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13733418
+SHUFFLE	COMPRESS_BYTE_COUNT	3893891
+SHUFFLE	COPY_MAP_DATA	202081000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13691320
+SHUFFLE	COMPRESS_BYTE_COUNT	3874960
+SHUFFLE	COPY_MAP_DATA	535888000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	144223081517
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	COMBINE	143975631517
+MERGE	WRITE	61290389000
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	34720536000
+SORT	READ_WRITE	34626046000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	131645456
+REDUCE	SETUP	381000
+REDUCE	SETUP_MEM	131645456
+REDUCE	CLEANUP	38000
+REDUCE	CLEANUP_MEM	139433560
+REDUCE	TOTAL_RUN	162023848000
+REDUCE	READ	23421378000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	105200087000
+REDUCE	WRITE	73205506000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	115508786
+REDUCE	VALUE_BYTE_COUNT	6905222
+REDUCE	REDUCE_MEM	139433560
+REDUCE	WRITE	27452000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	947427055517
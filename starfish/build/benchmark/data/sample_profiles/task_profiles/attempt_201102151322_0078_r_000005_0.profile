@@ -0,0 +1,149 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	6948714
+SHUFFLE	COMPRESS_BYTE_COUNT	2152919
+SHUFFLE	COPY_MAP_DATA	1025771000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	8412112
+SHUFFLE	COMPRESS_BYTE_COUNT	2538333
+SHUFFLE	COPY_MAP_DATA	276717000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9264912
+SHUFFLE	COMPRESS_BYTE_COUNT	2777433
+SHUFFLE	COPY_MAP_DATA	199207000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9665258
+SHUFFLE	COMPRESS_BYTE_COUNT	2876138
+SHUFFLE	COPY_MAP_DATA	258576000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9847028
+SHUFFLE	COMPRESS_BYTE_COUNT	2965347
+SHUFFLE	COPY_MAP_DATA	280235000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10351466
+SHUFFLE	COMPRESS_BYTE_COUNT	3044929
+SHUFFLE	COPY_MAP_DATA	699108000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10212718
+SHUFFLE	COMPRESS_BYTE_COUNT	3047344
+SHUFFLE	COPY_MAP_DATA	345104000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10598136
+SHUFFLE	COMPRESS_BYTE_COUNT	3129950
+SHUFFLE	COPY_MAP_DATA	197444000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10293838
+SHUFFLE	COMPRESS_BYTE_COUNT	3053627
+SHUFFLE	COPY_MAP_DATA	255723000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10814062
+SHUFFLE	COMPRESS_BYTE_COUNT	3163759
+SHUFFLE	COPY_MAP_DATA	275583000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10323126
+SHUFFLE	COMPRESS_BYTE_COUNT	3078559
+SHUFFLE	COPY_MAP_DATA	217021000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10554984
+SHUFFLE	COMPRESS_BYTE_COUNT	3118281
+SHUFFLE	COPY_MAP_DATA	264981000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12034482
+SHUFFLE	COMPRESS_BYTE_COUNT	3470296
+SHUFFLE	COPY_MAP_DATA	186896000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11738354
+SHUFFLE	COMPRESS_BYTE_COUNT	3411734
+SHUFFLE	COPY_MAP_DATA	228209000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10719934
+SHUFFLE	COMPRESS_BYTE_COUNT	3133688
+SHUFFLE	COPY_MAP_DATA	621586000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10474964
+SHUFFLE	COMPRESS_BYTE_COUNT	3078275
+SHUFFLE	COPY_MAP_DATA	161084000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12112259
+SHUFFLE	COMPRESS_BYTE_COUNT	3471859
+SHUFFLE	COPY_MAP_DATA	204848000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12491844
+SHUFFLE	COMPRESS_BYTE_COUNT	3628822
+SHUFFLE	COPY_MAP_DATA	191540000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11235273
+SHUFFLE	COMPRESS_BYTE_COUNT	3290913
+SHUFFLE	COPY_MAP_DATA	475281000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12781196
+SHUFFLE	COMPRESS_BYTE_COUNT	3688005
+SHUFFLE	COPY_MAP_DATA	195180000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12235762
+SHUFFLE	COMPRESS_BYTE_COUNT	3545842
+SHUFFLE	COPY_MAP_DATA	1483836000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11768064
+SHUFFLE	COMPRESS_BYTE_COUNT	3430035
+SHUFFLE	COPY_MAP_DATA	336893000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12667942
+SHUFFLE	COMPRESS_BYTE_COUNT	3671169
+SHUFFLE	COPY_MAP_DATA	266585000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13382820
+SHUFFLE	COMPRESS_BYTE_COUNT	3832457
+SHUFFLE	COPY_MAP_DATA	230068000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13062968
+SHUFFLE	COMPRESS_BYTE_COUNT	3767189
+SHUFFLE	COPY_MAP_DATA	188597000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12971518
+SHUFFLE	COMPRESS_BYTE_COUNT	3735241
+SHUFFLE	COPY_MAP_DATA	183361000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13079533
+SHUFFLE	COMPRESS_BYTE_COUNT	3779853
+SHUFFLE	COPY_MAP_DATA	373460000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12939512
+SHUFFLE	COMPRESS_BYTE_COUNT	3724808
+SHUFFLE	COPY_MAP_DATA	215827000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13672636
+SHUFFLE	COMPRESS_BYTE_COUNT	3888476
+SHUFFLE	COPY_MAP_DATA	205548000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13676734
+SHUFFLE	COMPRESS_BYTE_COUNT	3879515
+SHUFFLE	COPY_MAP_DATA	340620000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	157527273289
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	COMBINE	157307511289
+MERGE	WRITE	65936072537
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	35732995817
+SORT	READ_WRITE	35634953817
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	123438056
+REDUCE	SETUP	337000
+REDUCE	SETUP_MEM	123438056
+REDUCE	CLEANUP	35000
+REDUCE	CLEANUP_MEM	92341512
+REDUCE	TOTAL_RUN	178905540351
+REDUCE	READ	22513181335
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	110930485016
+REDUCE	WRITE	74706779016
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	115412592
+REDUCE	VALUE_BYTE_COUNT	6901968
+REDUCE	REDUCE_MEM	92343560
+REDUCE	WRITE	17684000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	964956300772
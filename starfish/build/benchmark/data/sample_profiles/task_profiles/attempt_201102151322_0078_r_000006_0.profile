@@ -0,0 +1,149 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	6905006
+SHUFFLE	COMPRESS_BYTE_COUNT	2155896
+SHUFFLE	COPY_MAP_DATA	447963000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	8335222
+SHUFFLE	COMPRESS_BYTE_COUNT	2532307
+SHUFFLE	COPY_MAP_DATA	337686000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9149110
+SHUFFLE	COMPRESS_BYTE_COUNT	2755801
+SHUFFLE	COPY_MAP_DATA	271477000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9573770
+SHUFFLE	COMPRESS_BYTE_COUNT	2860674
+SHUFFLE	COPY_MAP_DATA	327752000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9743934
+SHUFFLE	COMPRESS_BYTE_COUNT	2949116
+SHUFFLE	COPY_MAP_DATA	666208000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10275446
+SHUFFLE	COMPRESS_BYTE_COUNT	3039659
+SHUFFLE	COPY_MAP_DATA	617126000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10162894
+SHUFFLE	COMPRESS_BYTE_COUNT	3050815
+SHUFFLE	COPY_MAP_DATA	258728000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10529392
+SHUFFLE	COMPRESS_BYTE_COUNT	3123708
+SHUFFLE	COPY_MAP_DATA	1109589000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10183034
+SHUFFLE	COMPRESS_BYTE_COUNT	3037758
+SHUFFLE	COPY_MAP_DATA	165700000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10724167
+SHUFFLE	COMPRESS_BYTE_COUNT	3152404
+SHUFFLE	COPY_MAP_DATA	187981000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10250745
+SHUFFLE	COMPRESS_BYTE_COUNT	3076539
+SHUFFLE	COPY_MAP_DATA	171231000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10507866
+SHUFFLE	COMPRESS_BYTE_COUNT	3125097
+SHUFFLE	COPY_MAP_DATA	237440000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11895414
+SHUFFLE	COMPRESS_BYTE_COUNT	3445517
+SHUFFLE	COPY_MAP_DATA	192039000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11654492
+SHUFFLE	COMPRESS_BYTE_COUNT	3406139
+SHUFFLE	COPY_MAP_DATA	179279000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10628334
+SHUFFLE	COMPRESS_BYTE_COUNT	3120843
+SHUFFLE	COPY_MAP_DATA	380534000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10437294
+SHUFFLE	COMPRESS_BYTE_COUNT	3083224
+SHUFFLE	COPY_MAP_DATA	207403000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11970608
+SHUFFLE	COMPRESS_BYTE_COUNT	3440197
+SHUFFLE	COPY_MAP_DATA	1261688000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12416067
+SHUFFLE	COMPRESS_BYTE_COUNT	3627522
+SHUFFLE	COPY_MAP_DATA	178175000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11122393
+SHUFFLE	COMPRESS_BYTE_COUNT	3272175
+SHUFFLE	COPY_MAP_DATA	170119000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12686940
+SHUFFLE	COMPRESS_BYTE_COUNT	3676596
+SHUFFLE	COPY_MAP_DATA	443269000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12161960
+SHUFFLE	COMPRESS_BYTE_COUNT	3542147
+SHUFFLE	COPY_MAP_DATA	173384000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12526122
+SHUFFLE	COMPRESS_BYTE_COUNT	3644558
+SHUFFLE	COPY_MAP_DATA	1233454000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11645777
+SHUFFLE	COMPRESS_BYTE_COUNT	3413901
+SHUFFLE	COPY_MAP_DATA	1006324000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13287398
+SHUFFLE	COMPRESS_BYTE_COUNT	3836004
+SHUFFLE	COPY_MAP_DATA	230619000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12915504
+SHUFFLE	COMPRESS_BYTE_COUNT	3741737
+SHUFFLE	COPY_MAP_DATA	233922000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12825342
+SHUFFLE	COMPRESS_BYTE_COUNT	3711355
+SHUFFLE	COPY_MAP_DATA	198020000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12950898
+SHUFFLE	COMPRESS_BYTE_COUNT	3758459
+SHUFFLE	COPY_MAP_DATA	215245000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12774727
+SHUFFLE	COMPRESS_BYTE_COUNT	3690085
+SHUFFLE	COPY_MAP_DATA	700120000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13570098
+SHUFFLE	COMPRESS_BYTE_COUNT	3883070
+SHUFFLE	COPY_MAP_DATA	282536000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13614366
+SHUFFLE	COMPRESS_BYTE_COUNT	3875018
+SHUFFLE	COPY_MAP_DATA	419564000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	155015078067
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	COMBINE	154675522000
+MERGE	WRITE	65516116000
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	23682479000
+SORT	READ_WRITE	23563925000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	277844120
+REDUCE	SETUP	367000
+REDUCE	SETUP_MEM	277844120
+REDUCE	CLEANUP	30000
+REDUCE	CLEANUP_MEM	212413152
+REDUCE	TOTAL_RUN	160972907000
+REDUCE	READ	24719794000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	102759104000
+REDUCE	WRITE	72600019000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	115400616
+REDUCE	VALUE_BYTE_COUNT	6899374
+REDUCE	REDUCE_MEM	212415200
+REDUCE	WRITE	58177000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	926656616067
@@ -0,0 +1,149 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	6964526
+SHUFFLE	COMPRESS_BYTE_COUNT	2162203
+SHUFFLE	COPY_MAP_DATA	406785000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	8376198
+SHUFFLE	COMPRESS_BYTE_COUNT	2532510
+SHUFFLE	COPY_MAP_DATA	322893000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9242134
+SHUFFLE	COMPRESS_BYTE_COUNT	2772173
+SHUFFLE	COPY_MAP_DATA	2418846000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9646694
+SHUFFLE	COMPRESS_BYTE_COUNT	2869698
+SHUFFLE	COPY_MAP_DATA	270773000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9824674
+SHUFFLE	COMPRESS_BYTE_COUNT	2958884
+SHUFFLE	COPY_MAP_DATA	174446000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10367876
+SHUFFLE	COMPRESS_BYTE_COUNT	3053961
+SHUFFLE	COPY_MAP_DATA	427327000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10199022
+SHUFFLE	COMPRESS_BYTE_COUNT	3037313
+SHUFFLE	COPY_MAP_DATA	1090838000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10648250
+SHUFFLE	COMPRESS_BYTE_COUNT	3146609
+SHUFFLE	COPY_MAP_DATA	2469495000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10295368
+SHUFFLE	COMPRESS_BYTE_COUNT	3052129
+SHUFFLE	COPY_MAP_DATA	857712000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10810352
+SHUFFLE	COMPRESS_BYTE_COUNT	3164610
+SHUFFLE	COPY_MAP_DATA	366917000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10348316
+SHUFFLE	COMPRESS_BYTE_COUNT	3086951
+SHUFFLE	COPY_MAP_DATA	278332000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10604594
+SHUFFLE	COMPRESS_BYTE_COUNT	3138631
+SHUFFLE	COPY_MAP_DATA	535802000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11724594
+SHUFFLE	COMPRESS_BYTE_COUNT	3417111
+SHUFFLE	COPY_MAP_DATA	226443000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10738362
+SHUFFLE	COMPRESS_BYTE_COUNT	3143790
+SHUFFLE	COPY_MAP_DATA	168282000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12028552
+SHUFFLE	COMPRESS_BYTE_COUNT	3466970
+SHUFFLE	COPY_MAP_DATA	662945000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10502220
+SHUFFLE	COMPRESS_BYTE_COUNT	3083055
+SHUFFLE	COPY_MAP_DATA	3381646000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12068084
+SHUFFLE	COMPRESS_BYTE_COUNT	3448212
+SHUFFLE	COPY_MAP_DATA	1037124000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12580560
+SHUFFLE	COMPRESS_BYTE_COUNT	3648293
+SHUFFLE	COPY_MAP_DATA	627832000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11219364
+SHUFFLE	COMPRESS_BYTE_COUNT	3285979
+SHUFFLE	COPY_MAP_DATA	260030000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12818250
+SHUFFLE	COMPRESS_BYTE_COUNT	3698575
+SHUFFLE	COPY_MAP_DATA	183167000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12274374
+SHUFFLE	COMPRESS_BYTE_COUNT	3561083
+SHUFFLE	COPY_MAP_DATA	307051000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12640796
+SHUFFLE	COMPRESS_BYTE_COUNT	3661927
+SHUFFLE	COPY_MAP_DATA	225196000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11738711
+SHUFFLE	COMPRESS_BYTE_COUNT	3425997
+SHUFFLE	COPY_MAP_DATA	613103000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13421858
+SHUFFLE	COMPRESS_BYTE_COUNT	3841833
+SHUFFLE	COPY_MAP_DATA	204246000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13050800
+SHUFFLE	COMPRESS_BYTE_COUNT	3759733
+SHUFFLE	COPY_MAP_DATA	217818000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12945016
+SHUFFLE	COMPRESS_BYTE_COUNT	3724272
+SHUFFLE	COPY_MAP_DATA	196325000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13082768
+SHUFFLE	COMPRESS_BYTE_COUNT	3773538
+SHUFFLE	COPY_MAP_DATA	410812000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12900014
+SHUFFLE	COMPRESS_BYTE_COUNT	3713536
+SHUFFLE	COPY_MAP_DATA	642028000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13693992
+SHUFFLE	COMPRESS_BYTE_COUNT	3889345
+SHUFFLE	COPY_MAP_DATA	435096000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13730103
+SHUFFLE	COMPRESS_BYTE_COUNT	3885067
+SHUFFLE	COPY_MAP_DATA	422171000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	237655482413
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	COMBINE	237372716413
+MERGE	WRITE	83055874000
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	23994555000
+SORT	READ_WRITE	23900134000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	134231288
+REDUCE	SETUP	403000
+REDUCE	SETUP_MEM	134231288
+REDUCE	CLEANUP	33000
+REDUCE	CLEANUP_MEM	108967000
+REDUCE	TOTAL_RUN	157204836000
+REDUCE	READ	23399385000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	101060523000
+REDUCE	WRITE	72496623000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	115486102
+REDUCE	VALUE_BYTE_COUNT	6905261
+REDUCE	REDUCE_MEM	108967000
+REDUCE	WRITE	48706000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	927254815413
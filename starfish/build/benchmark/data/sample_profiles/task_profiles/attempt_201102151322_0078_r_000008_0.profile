@@ -0,0 +1,149 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	8423806
+SHUFFLE	COMPRESS_BYTE_COUNT	2543426
+SHUFFLE	COPY_MAP_DATA	882021000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	6945154
+SHUFFLE	COMPRESS_BYTE_COUNT	2157390
+SHUFFLE	COPY_MAP_DATA	158641000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9278316
+SHUFFLE	COMPRESS_BYTE_COUNT	2785383
+SHUFFLE	COPY_MAP_DATA	564922000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9700400
+SHUFFLE	COMPRESS_BYTE_COUNT	2885254
+SHUFFLE	COPY_MAP_DATA	391407000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9905225
+SHUFFLE	COMPRESS_BYTE_COUNT	2981660
+SHUFFLE	COPY_MAP_DATA	748310000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10391856
+SHUFFLE	COMPRESS_BYTE_COUNT	3051754
+SHUFFLE	COPY_MAP_DATA	273593000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10246508
+SHUFFLE	COMPRESS_BYTE_COUNT	3052597
+SHUFFLE	COPY_MAP_DATA	436026000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10617258
+SHUFFLE	COMPRESS_BYTE_COUNT	3132671
+SHUFFLE	COPY_MAP_DATA	175461000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10841216
+SHUFFLE	COMPRESS_BYTE_COUNT	3168521
+SHUFFLE	COPY_MAP_DATA	177240000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10329992
+SHUFFLE	COMPRESS_BYTE_COUNT	3064472
+SHUFFLE	COPY_MAP_DATA	168334000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10424120
+SHUFFLE	COMPRESS_BYTE_COUNT	3098453
+SHUFFLE	COPY_MAP_DATA	171029000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12034317
+SHUFFLE	COMPRESS_BYTE_COUNT	3468903
+SHUFFLE	COPY_MAP_DATA	617354000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11745658
+SHUFFLE	COMPRESS_BYTE_COUNT	3411311
+SHUFFLE	COPY_MAP_DATA	211997000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10569683
+SHUFFLE	COMPRESS_BYTE_COUNT	3116325
+SHUFFLE	COPY_MAP_DATA	248460000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10762042
+SHUFFLE	COMPRESS_BYTE_COUNT	3145442
+SHUFFLE	COPY_MAP_DATA	162179000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10528680
+SHUFFLE	COMPRESS_BYTE_COUNT	3098904
+SHUFFLE	COPY_MAP_DATA	432746000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12094974
+SHUFFLE	COMPRESS_BYTE_COUNT	3459848
+SHUFFLE	COPY_MAP_DATA	254350000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12556076
+SHUFFLE	COMPRESS_BYTE_COUNT	3650004
+SHUFFLE	COPY_MAP_DATA	184447000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11218422
+SHUFFLE	COMPRESS_BYTE_COUNT	3289159
+SHUFFLE	COPY_MAP_DATA	500577000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12854680
+SHUFFLE	COMPRESS_BYTE_COUNT	3700679
+SHUFFLE	COPY_MAP_DATA	195147000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12255966
+SHUFFLE	COMPRESS_BYTE_COUNT	3557091
+SHUFFLE	COPY_MAP_DATA	313744000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12613328
+SHUFFLE	COMPRESS_BYTE_COUNT	3655478
+SHUFFLE	COPY_MAP_DATA	498631000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11749472
+SHUFFLE	COMPRESS_BYTE_COUNT	3427785
+SHUFFLE	COPY_MAP_DATA	259015000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13403736
+SHUFFLE	COMPRESS_BYTE_COUNT	3833784
+SHUFFLE	COPY_MAP_DATA	308952000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13080196
+SHUFFLE	COMPRESS_BYTE_COUNT	3768311
+SHUFFLE	COPY_MAP_DATA	530379000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12981414
+SHUFFLE	COMPRESS_BYTE_COUNT	3726905
+SHUFFLE	COPY_MAP_DATA	489590000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13079838
+SHUFFLE	COMPRESS_BYTE_COUNT	3776147
+SHUFFLE	COPY_MAP_DATA	673734000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12971708
+SHUFFLE	COMPRESS_BYTE_COUNT	3731776
+SHUFFLE	COPY_MAP_DATA	366558000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13691020
+SHUFFLE	COMPRESS_BYTE_COUNT	3885520
+SHUFFLE	COPY_MAP_DATA	399924000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13719991
+SHUFFLE	COMPRESS_BYTE_COUNT	3890108
+SHUFFLE	COPY_MAP_DATA	299754000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	209856802303
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	COMBINE	209506205303
+MERGE	WRITE	81132076202
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	36595101000
+SORT	READ_WRITE	36124264000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	82959840
+REDUCE	SETUP	274000
+REDUCE	SETUP_MEM	82959840
+REDUCE	CLEANUP	42000
+REDUCE	CLEANUP_MEM	129667656
+REDUCE	TOTAL_RUN	179845134303
+REDUCE	READ	22433543202
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	110596912101
+REDUCE	WRITE	75163153101
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	115428282
+REDUCE	VALUE_BYTE_COUNT	6904328
+REDUCE	REDUCE_MEM	129669704
+REDUCE	WRITE	15641000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	963333446028
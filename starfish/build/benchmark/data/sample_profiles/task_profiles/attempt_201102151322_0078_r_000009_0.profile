@@ -0,0 +1,149 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	8386480
+SHUFFLE	COMPRESS_BYTE_COUNT	2535965
+SHUFFLE	COPY_MAP_DATA	828463000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	6917750
+SHUFFLE	COMPRESS_BYTE_COUNT	2153175
+SHUFFLE	COPY_MAP_DATA	199060000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9242336
+SHUFFLE	COMPRESS_BYTE_COUNT	2783370
+SHUFFLE	COPY_MAP_DATA	401116000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9595536
+SHUFFLE	COMPRESS_BYTE_COUNT	2864441
+SHUFFLE	COPY_MAP_DATA	586420000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9801903
+SHUFFLE	COMPRESS_BYTE_COUNT	2961124
+SHUFFLE	COPY_MAP_DATA	159466000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10280508
+SHUFFLE	COMPRESS_BYTE_COUNT	3033482
+SHUFFLE	COPY_MAP_DATA	439220000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10220582
+SHUFFLE	COMPRESS_BYTE_COUNT	3061596
+SHUFFLE	COPY_MAP_DATA	401727000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10569068
+SHUFFLE	COMPRESS_BYTE_COUNT	3129852
+SHUFFLE	COPY_MAP_DATA	358891000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10243606
+SHUFFLE	COMPRESS_BYTE_COUNT	3045410
+SHUFFLE	COPY_MAP_DATA	171987000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10747792
+SHUFFLE	COMPRESS_BYTE_COUNT	3160290
+SHUFFLE	COPY_MAP_DATA	333395000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10295370
+SHUFFLE	COMPRESS_BYTE_COUNT	3082008
+SHUFFLE	COPY_MAP_DATA	230645000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11629235
+SHUFFLE	COMPRESS_BYTE_COUNT	3391177
+SHUFFLE	COPY_MAP_DATA	305787000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11972114
+SHUFFLE	COMPRESS_BYTE_COUNT	3462640
+SHUFFLE	COPY_MAP_DATA	656892000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10510060
+SHUFFLE	COMPRESS_BYTE_COUNT	3112470
+SHUFFLE	COPY_MAP_DATA	223875000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10682340
+SHUFFLE	COMPRESS_BYTE_COUNT	3133330
+SHUFFLE	COPY_MAP_DATA	379215000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10430232
+SHUFFLE	COMPRESS_BYTE_COUNT	3069722
+SHUFFLE	COPY_MAP_DATA	253596000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12054308
+SHUFFLE	COMPRESS_BYTE_COUNT	3461124
+SHUFFLE	COPY_MAP_DATA	723376000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12496580
+SHUFFLE	COMPRESS_BYTE_COUNT	3640193
+SHUFFLE	COPY_MAP_DATA	189039000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11162698
+SHUFFLE	COMPRESS_BYTE_COUNT	3277633
+SHUFFLE	COPY_MAP_DATA	732756000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12736786
+SHUFFLE	COMPRESS_BYTE_COUNT	3683589
+SHUFFLE	COPY_MAP_DATA	636163000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12190834
+SHUFFLE	COMPRESS_BYTE_COUNT	3546706
+SHUFFLE	COPY_MAP_DATA	41913311000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12625897
+SHUFFLE	COMPRESS_BYTE_COUNT	3668668
+SHUFFLE	COPY_MAP_DATA	177991000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11735826
+SHUFFLE	COMPRESS_BYTE_COUNT	3428042
+SHUFFLE	COPY_MAP_DATA	220736000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13329992
+SHUFFLE	COMPRESS_BYTE_COUNT	3829357
+SHUFFLE	COPY_MAP_DATA	257516000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12968210
+SHUFFLE	COMPRESS_BYTE_COUNT	3741021
+SHUFFLE	COPY_MAP_DATA	811025000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12882616
+SHUFFLE	COMPRESS_BYTE_COUNT	3719038
+SHUFFLE	COPY_MAP_DATA	419254000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12971800
+SHUFFLE	COMPRESS_BYTE_COUNT	3757206
+SHUFFLE	COPY_MAP_DATA	371961000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12867810
+SHUFFLE	COMPRESS_BYTE_COUNT	3707970
+SHUFFLE	COPY_MAP_DATA	269860000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13657550
+SHUFFLE	COMPRESS_BYTE_COUNT	3894713
+SHUFFLE	COPY_MAP_DATA	219408000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13625238
+SHUFFLE	COMPRESS_BYTE_COUNT	3871824
+SHUFFLE	COPY_MAP_DATA	184395000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	303019353888
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	COMBINE	302520330888
+MERGE	WRITE	107529578155
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	24158032000
+SORT	READ_WRITE	24049721000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	79671696
+REDUCE	SETUP	19553000
+REDUCE	SETUP_MEM	79671696
+REDUCE	CLEANUP	43000
+REDUCE	CLEANUP_MEM	114347600
+REDUCE	TOTAL_RUN	181863747556
+REDUCE	READ	22257372423
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	112402423979
+REDUCE	WRITE	78106357979
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	115349064
+REDUCE	VALUE_BYTE_COUNT	6897442
+REDUCE	REDUCE_MEM	114349648
+REDUCE	WRITE	30691000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	955463485087
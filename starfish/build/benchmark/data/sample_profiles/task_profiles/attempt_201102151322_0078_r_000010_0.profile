@@ -0,0 +1,149 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	8346762
+SHUFFLE	COMPRESS_BYTE_COUNT	2533584
+SHUFFLE	COPY_MAP_DATA	521589000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	6918949
+SHUFFLE	COMPRESS_BYTE_COUNT	2156113
+SHUFFLE	COPY_MAP_DATA	2757354000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9214456
+SHUFFLE	COMPRESS_BYTE_COUNT	2769243
+SHUFFLE	COPY_MAP_DATA	277611000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9601970
+SHUFFLE	COMPRESS_BYTE_COUNT	2863841
+SHUFFLE	COPY_MAP_DATA	918737000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9782545
+SHUFFLE	COMPRESS_BYTE_COUNT	2955369
+SHUFFLE	COPY_MAP_DATA	367070000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10282516
+SHUFFLE	COMPRESS_BYTE_COUNT	3035153
+SHUFFLE	COPY_MAP_DATA	345765000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10150702
+SHUFFLE	COMPRESS_BYTE_COUNT	3041354
+SHUFFLE	COPY_MAP_DATA	1118867000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10552189
+SHUFFLE	COMPRESS_BYTE_COUNT	3128141
+SHUFFLE	COPY_MAP_DATA	257303000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10740676
+SHUFFLE	COMPRESS_BYTE_COUNT	3158722
+SHUFFLE	COPY_MAP_DATA	297927000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10268809
+SHUFFLE	COMPRESS_BYTE_COUNT	3061409
+SHUFFLE	COPY_MAP_DATA	230641000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10305788
+SHUFFLE	COMPRESS_BYTE_COUNT	3081453
+SHUFFLE	COPY_MAP_DATA	173354000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11651716
+SHUFFLE	COMPRESS_BYTE_COUNT	3398965
+SHUFFLE	COPY_MAP_DATA	303183000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11950752
+SHUFFLE	COMPRESS_BYTE_COUNT	3462803
+SHUFFLE	COPY_MAP_DATA	338745000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10480332
+SHUFFLE	COMPRESS_BYTE_COUNT	3107347
+SHUFFLE	COPY_MAP_DATA	271433000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10664092
+SHUFFLE	COMPRESS_BYTE_COUNT	3131461
+SHUFFLE	COPY_MAP_DATA	241354000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10440198
+SHUFFLE	COMPRESS_BYTE_COUNT	3081678
+SHUFFLE	COPY_MAP_DATA	242773000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12044078
+SHUFFLE	COMPRESS_BYTE_COUNT	3455129
+SHUFFLE	COPY_MAP_DATA	1726781000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12452022
+SHUFFLE	COMPRESS_BYTE_COUNT	3624313
+SHUFFLE	COPY_MAP_DATA	197906000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11143644
+SHUFFLE	COMPRESS_BYTE_COUNT	3277057
+SHUFFLE	COPY_MAP_DATA	226458000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12692386
+SHUFFLE	COMPRESS_BYTE_COUNT	3672539
+SHUFFLE	COPY_MAP_DATA	379221000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12190486
+SHUFFLE	COMPRESS_BYTE_COUNT	3542427
+SHUFFLE	COPY_MAP_DATA	175988000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12526514
+SHUFFLE	COMPRESS_BYTE_COUNT	3646163
+SHUFFLE	COPY_MAP_DATA	446585000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11656188
+SHUFFLE	COMPRESS_BYTE_COUNT	3413885
+SHUFFLE	COPY_MAP_DATA	269584000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13341732
+SHUFFLE	COMPRESS_BYTE_COUNT	3832480
+SHUFFLE	COPY_MAP_DATA	188585000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12948662
+SHUFFLE	COMPRESS_BYTE_COUNT	3748466
+SHUFFLE	COPY_MAP_DATA	249756000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12913314
+SHUFFLE	COMPRESS_BYTE_COUNT	3731097
+SHUFFLE	COPY_MAP_DATA	189678000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12987832
+SHUFFLE	COMPRESS_BYTE_COUNT	3766185
+SHUFFLE	COPY_MAP_DATA	301310000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12854640
+SHUFFLE	COMPRESS_BYTE_COUNT	3714117
+SHUFFLE	COPY_MAP_DATA	205728000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13578488
+SHUFFLE	COMPRESS_BYTE_COUNT	3879404
+SHUFFLE	COPY_MAP_DATA	266666000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13588740
+SHUFFLE	COMPRESS_BYTE_COUNT	3859142
+SHUFFLE	COPY_MAP_DATA	222516000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	165625029167
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	COMBINE	165107418167
+MERGE	WRITE	68897748259
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	31506191755
+SORT	READ_WRITE	31388442755
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	127966336
+REDUCE	SETUP	291000
+REDUCE	SETUP_MEM	127966336
+REDUCE	CLEANUP	35000
+REDUCE	CLEANUP_MEM	105517576
+REDUCE	TOTAL_RUN	184692881268
+REDUCE	READ	23473051000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	113778732908
+REDUCE	WRITE	77005248908
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	115321052
+REDUCE	VALUE_BYTE_COUNT	6894541
+REDUCE	REDUCE_MEM	105517576
+REDUCE	WRITE	15878000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	965360066236
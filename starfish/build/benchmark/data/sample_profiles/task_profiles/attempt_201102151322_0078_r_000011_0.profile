@@ -0,0 +1,149 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	8386602
+SHUFFLE	COMPRESS_BYTE_COUNT	2539432
+SHUFFLE	COPY_MAP_DATA	413664000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	6875884
+SHUFFLE	COMPRESS_BYTE_COUNT	2140220
+SHUFFLE	COPY_MAP_DATA	487693000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9209236
+SHUFFLE	COMPRESS_BYTE_COUNT	2778551
+SHUFFLE	COPY_MAP_DATA	622362000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9584932
+SHUFFLE	COMPRESS_BYTE_COUNT	2860045
+SHUFFLE	COPY_MAP_DATA	434315000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9793689
+SHUFFLE	COMPRESS_BYTE_COUNT	2958266
+SHUFFLE	COPY_MAP_DATA	416954000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10317212
+SHUFFLE	COMPRESS_BYTE_COUNT	3043084
+SHUFFLE	COPY_MAP_DATA	566751000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10136408
+SHUFFLE	COMPRESS_BYTE_COUNT	3034183
+SHUFFLE	COPY_MAP_DATA	1849315000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10609567
+SHUFFLE	COMPRESS_BYTE_COUNT	3147762
+SHUFFLE	COPY_MAP_DATA	322102000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10699334
+SHUFFLE	COMPRESS_BYTE_COUNT	3139722
+SHUFFLE	COPY_MAP_DATA	610524000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10255852
+SHUFFLE	COMPRESS_BYTE_COUNT	3054163
+SHUFFLE	COPY_MAP_DATA	357706000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10313844
+SHUFFLE	COMPRESS_BYTE_COUNT	3091027
+SHUFFLE	COPY_MAP_DATA	641813000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11950914
+SHUFFLE	COMPRESS_BYTE_COUNT	3456116
+SHUFFLE	COPY_MAP_DATA	569418000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10503372
+SHUFFLE	COMPRESS_BYTE_COUNT	3115253
+SHUFFLE	COPY_MAP_DATA	356205000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11659446
+SHUFFLE	COMPRESS_BYTE_COUNT	3396702
+SHUFFLE	COPY_MAP_DATA	483142000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10670813
+SHUFFLE	COMPRESS_BYTE_COUNT	3135800
+SHUFFLE	COPY_MAP_DATA	278223000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10441178
+SHUFFLE	COMPRESS_BYTE_COUNT	3071533
+SHUFFLE	COPY_MAP_DATA	435321000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12052546
+SHUFFLE	COMPRESS_BYTE_COUNT	3458693
+SHUFFLE	COPY_MAP_DATA	278726000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12435108
+SHUFFLE	COMPRESS_BYTE_COUNT	3629109
+SHUFFLE	COPY_MAP_DATA	229362000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11197806
+SHUFFLE	COMPRESS_BYTE_COUNT	3292671
+SHUFFLE	COPY_MAP_DATA	1069427000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12713272
+SHUFFLE	COMPRESS_BYTE_COUNT	3681799
+SHUFFLE	COPY_MAP_DATA	258156000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12222313
+SHUFFLE	COMPRESS_BYTE_COUNT	3554297
+SHUFFLE	COPY_MAP_DATA	49255333143
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12556687
+SHUFFLE	COMPRESS_BYTE_COUNT	3649514
+SHUFFLE	COPY_MAP_DATA	199862000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11642924
+SHUFFLE	COMPRESS_BYTE_COUNT	3408736
+SHUFFLE	COPY_MAP_DATA	183241000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13365594
+SHUFFLE	COMPRESS_BYTE_COUNT	3843939
+SHUFFLE	COPY_MAP_DATA	367125000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12962154
+SHUFFLE	COMPRESS_BYTE_COUNT	3744827
+SHUFFLE	COPY_MAP_DATA	202646000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12879304
+SHUFFLE	COMPRESS_BYTE_COUNT	3717285
+SHUFFLE	COPY_MAP_DATA	1777310000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13052246
+SHUFFLE	COMPRESS_BYTE_COUNT	3781145
+SHUFFLE	COPY_MAP_DATA	247270000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12844428
+SHUFFLE	COMPRESS_BYTE_COUNT	3708138
+SHUFFLE	COPY_MAP_DATA	213216000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13645691
+SHUFFLE	COMPRESS_BYTE_COUNT	3888277
+SHUFFLE	COPY_MAP_DATA	197454000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13685782
+SHUFFLE	COMPRESS_BYTE_COUNT	3889413
+SHUFFLE	COPY_MAP_DATA	811963000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	255766032571
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	COMBINE	254712413571
+MERGE	WRITE	88120398285
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	61413337142
+SORT	READ_WRITE	61196856142
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	184445952
+REDUCE	SETUP	292000
+REDUCE	SETUP_MEM	184445952
+REDUCE	CLEANUP	44000
+REDUCE	CLEANUP_MEM	182101720
+REDUCE	TOTAL_RUN	181997588276
+REDUCE	READ	22288288143
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	114472904133
+REDUCE	WRITE	74837096133
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	115430574
+REDUCE	VALUE_BYTE_COUNT	6899729
+REDUCE	REDUCE_MEM	182101720
+REDUCE	WRITE	10895000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	991862422272
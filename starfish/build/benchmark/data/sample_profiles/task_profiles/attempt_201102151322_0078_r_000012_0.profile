@@ -0,0 +1,149 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	8348466
+SHUFFLE	COMPRESS_BYTE_COUNT	2537349
+SHUFFLE	COPY_MAP_DATA	271510000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	6884849
+SHUFFLE	COMPRESS_BYTE_COUNT	2147900
+SHUFFLE	COPY_MAP_DATA	202542000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9194296
+SHUFFLE	COMPRESS_BYTE_COUNT	2771891
+SHUFFLE	COPY_MAP_DATA	225474000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9643265
+SHUFFLE	COMPRESS_BYTE_COUNT	2877839
+SHUFFLE	COPY_MAP_DATA	231263000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9808260
+SHUFFLE	COMPRESS_BYTE_COUNT	2970454
+SHUFFLE	COPY_MAP_DATA	192620000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10280696
+SHUFFLE	COMPRESS_BYTE_COUNT	3038259
+SHUFFLE	COPY_MAP_DATA	190359000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10173818
+SHUFFLE	COMPRESS_BYTE_COUNT	3045286
+SHUFFLE	COPY_MAP_DATA	549673000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10539160
+SHUFFLE	COMPRESS_BYTE_COUNT	3127326
+SHUFFLE	COPY_MAP_DATA	231934000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10225426
+SHUFFLE	COMPRESS_BYTE_COUNT	3050833
+SHUFFLE	COPY_MAP_DATA	175189000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10731910
+SHUFFLE	COMPRESS_BYTE_COUNT	3153521
+SHUFFLE	COPY_MAP_DATA	164834000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10303148
+SHUFFLE	COMPRESS_BYTE_COUNT	3085093
+SHUFFLE	COPY_MAP_DATA	161813000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10488828
+SHUFFLE	COMPRESS_BYTE_COUNT	3114881
+SHUFFLE	COPY_MAP_DATA	226248000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11655079
+SHUFFLE	COMPRESS_BYTE_COUNT	3406247
+SHUFFLE	COPY_MAP_DATA	326628000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10619374
+SHUFFLE	COMPRESS_BYTE_COUNT	3119134
+SHUFFLE	COPY_MAP_DATA	219037000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11973008
+SHUFFLE	COMPRESS_BYTE_COUNT	3461418
+SHUFFLE	COPY_MAP_DATA	250105000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10414330
+SHUFFLE	COMPRESS_BYTE_COUNT	3066509
+SHUFFLE	COPY_MAP_DATA	189616000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12020001
+SHUFFLE	COMPRESS_BYTE_COUNT	3459781
+SHUFFLE	COPY_MAP_DATA	193967000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12466470
+SHUFFLE	COMPRESS_BYTE_COUNT	3640300
+SHUFFLE	COPY_MAP_DATA	195804000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11176106
+SHUFFLE	COMPRESS_BYTE_COUNT	3289677
+SHUFFLE	COPY_MAP_DATA	166286000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12722736
+SHUFFLE	COMPRESS_BYTE_COUNT	3675050
+SHUFFLE	COPY_MAP_DATA	183018000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12184470
+SHUFFLE	COMPRESS_BYTE_COUNT	3545177
+SHUFFLE	COPY_MAP_DATA	201982000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12541806
+SHUFFLE	COMPRESS_BYTE_COUNT	3651107
+SHUFFLE	COPY_MAP_DATA	499894000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11640949
+SHUFFLE	COMPRESS_BYTE_COUNT	3410178
+SHUFFLE	COPY_MAP_DATA	202961000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13352904
+SHUFFLE	COMPRESS_BYTE_COUNT	3840971
+SHUFFLE	COPY_MAP_DATA	225456000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12966588
+SHUFFLE	COMPRESS_BYTE_COUNT	3751721
+SHUFFLE	COPY_MAP_DATA	295427000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12855258
+SHUFFLE	COMPRESS_BYTE_COUNT	3711985
+SHUFFLE	COPY_MAP_DATA	228597000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12990053
+SHUFFLE	COMPRESS_BYTE_COUNT	3765759
+SHUFFLE	COPY_MAP_DATA	344780000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12827704
+SHUFFLE	COMPRESS_BYTE_COUNT	3698176
+SHUFFLE	COPY_MAP_DATA	280574000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13655684
+SHUFFLE	COMPRESS_BYTE_COUNT	3897719
+SHUFFLE	COPY_MAP_DATA	260790000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13613300
+SHUFFLE	COMPRESS_BYTE_COUNT	3866145
+SHUFFLE	COPY_MAP_DATA	224359000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	145490809000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	COMBINE	145231850000
+MERGE	WRITE	61864927000
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	22864246000
+SORT	READ_WRITE	22754804000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	74506216
+REDUCE	SETUP	279000
+REDUCE	SETUP_MEM	74506216
+REDUCE	CLEANUP	39000
+REDUCE	CLEANUP_MEM	90338064
+REDUCE	TOTAL_RUN	169932785000
+REDUCE	READ	25070115000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	110143823000
+REDUCE	WRITE	78608738000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	115367256
+REDUCE	VALUE_BYTE_COUNT	6899019
+REDUCE	REDUCE_MEM	90340112
+REDUCE	WRITE	252561000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	944566824000
@@ -0,0 +1,149 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	6947554
+SHUFFLE	COMPRESS_BYTE_COUNT	2157274
+SHUFFLE	COPY_MAP_DATA	842090000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	8372812
+SHUFFLE	COMPRESS_BYTE_COUNT	2532717
+SHUFFLE	COPY_MAP_DATA	170824000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9251430
+SHUFFLE	COMPRESS_BYTE_COUNT	2778899
+SHUFFLE	COPY_MAP_DATA	290314000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9617324
+SHUFFLE	COMPRESS_BYTE_COUNT	2863373
+SHUFFLE	COPY_MAP_DATA	994162000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9837465
+SHUFFLE	COMPRESS_BYTE_COUNT	2964866
+SHUFFLE	COPY_MAP_DATA	166636000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10345272
+SHUFFLE	COMPRESS_BYTE_COUNT	3055680
+SHUFFLE	COPY_MAP_DATA	604989000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10172314
+SHUFFLE	COMPRESS_BYTE_COUNT	3039352
+SHUFFLE	COPY_MAP_DATA	240144000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10588206
+SHUFFLE	COMPRESS_BYTE_COUNT	3133952
+SHUFFLE	COPY_MAP_DATA	196696000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10269980
+SHUFFLE	COMPRESS_BYTE_COUNT	3046975
+SHUFFLE	COPY_MAP_DATA	175977000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10755692
+SHUFFLE	COMPRESS_BYTE_COUNT	3159920
+SHUFFLE	COPY_MAP_DATA	150335000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10342964
+SHUFFLE	COMPRESS_BYTE_COUNT	3080665
+SHUFFLE	COPY_MAP_DATA	232466000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11688380
+SHUFFLE	COMPRESS_BYTE_COUNT	3398334
+SHUFFLE	COPY_MAP_DATA	233458000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11970966
+SHUFFLE	COMPRESS_BYTE_COUNT	3450170
+SHUFFLE	COPY_MAP_DATA	178399000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10553635
+SHUFFLE	COMPRESS_BYTE_COUNT	3126673
+SHUFFLE	COPY_MAP_DATA	198570000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10712182
+SHUFFLE	COMPRESS_BYTE_COUNT	3139883
+SHUFFLE	COPY_MAP_DATA	147196000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10489180
+SHUFFLE	COMPRESS_BYTE_COUNT	3085109
+SHUFFLE	COPY_MAP_DATA	172236000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12060418
+SHUFFLE	COMPRESS_BYTE_COUNT	3451825
+SHUFFLE	COPY_MAP_DATA	183040000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11231974
+SHUFFLE	COMPRESS_BYTE_COUNT	3289778
+SHUFFLE	COPY_MAP_DATA	183032000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12483860
+SHUFFLE	COMPRESS_BYTE_COUNT	3626198
+SHUFFLE	COPY_MAP_DATA	181345000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12735650
+SHUFFLE	COMPRESS_BYTE_COUNT	3676278
+SHUFFLE	COPY_MAP_DATA	368088000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12219770
+SHUFFLE	COMPRESS_BYTE_COUNT	3546208
+SHUFFLE	COPY_MAP_DATA	234375000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12619048
+SHUFFLE	COMPRESS_BYTE_COUNT	3652167
+SHUFFLE	COPY_MAP_DATA	197054000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11655590
+SHUFFLE	COMPRESS_BYTE_COUNT	3400585
+SHUFFLE	COPY_MAP_DATA	314737000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13366869
+SHUFFLE	COMPRESS_BYTE_COUNT	3834176
+SHUFFLE	COPY_MAP_DATA	190480000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12972401
+SHUFFLE	COMPRESS_BYTE_COUNT	3737730
+SHUFFLE	COPY_MAP_DATA	320032000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12912722
+SHUFFLE	COMPRESS_BYTE_COUNT	3721818
+SHUFFLE	COPY_MAP_DATA	432288000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13044606
+SHUFFLE	COMPRESS_BYTE_COUNT	3765987
+SHUFFLE	COPY_MAP_DATA	356802000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12888750
+SHUFFLE	COMPRESS_BYTE_COUNT	3704140
+SHUFFLE	COPY_MAP_DATA	230612000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13659662
+SHUFFLE	COMPRESS_BYTE_COUNT	3888110
+SHUFFLE	COPY_MAP_DATA	349901000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13648216
+SHUFFLE	COMPRESS_BYTE_COUNT	3873044
+SHUFFLE	COPY_MAP_DATA	215384000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	136457924000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	COMBINE	136220083000
+MERGE	WRITE	58688365000
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	32340825000
+SORT	READ_WRITE	32234005000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	110084296
+REDUCE	SETUP	5647000
+REDUCE	SETUP_MEM	110084296
+REDUCE	CLEANUP	38000
+REDUCE	CLEANUP_MEM	145619576
+REDUCE	TOTAL_RUN	161840046000
+REDUCE	READ	23233897000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	104718767000
+REDUCE	WRITE	72144829000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	115395372
+REDUCE	VALUE_BYTE_COUNT	6898831
+REDUCE	REDUCE_MEM	145619576
+REDUCE	WRITE	597269000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	938558318137
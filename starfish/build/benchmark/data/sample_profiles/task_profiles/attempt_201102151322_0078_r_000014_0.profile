@@ -0,0 +1,149 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	8349094
+SHUFFLE	COMPRESS_BYTE_COUNT	2533494
+SHUFFLE	COPY_MAP_DATA	2034233000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	6909250
+SHUFFLE	COMPRESS_BYTE_COUNT	2151135
+SHUFFLE	COPY_MAP_DATA	189991000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9205066
+SHUFFLE	COMPRESS_BYTE_COUNT	2771121
+SHUFFLE	COPY_MAP_DATA	204619000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9575168
+SHUFFLE	COMPRESS_BYTE_COUNT	2857518
+SHUFFLE	COPY_MAP_DATA	293235000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9786886
+SHUFFLE	COMPRESS_BYTE_COUNT	2958916
+SHUFFLE	COPY_MAP_DATA	166607000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10316870
+SHUFFLE	COMPRESS_BYTE_COUNT	3044456
+SHUFFLE	COPY_MAP_DATA	195505000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10187888
+SHUFFLE	COMPRESS_BYTE_COUNT	3047077
+SHUFFLE	COPY_MAP_DATA	516900000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10544926
+SHUFFLE	COMPRESS_BYTE_COUNT	3130570
+SHUFFLE	COPY_MAP_DATA	176539000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10670898
+SHUFFLE	COMPRESS_BYTE_COUNT	3138651
+SHUFFLE	COPY_MAP_DATA	180802000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10234113
+SHUFFLE	COMPRESS_BYTE_COUNT	3046518
+SHUFFLE	COPY_MAP_DATA	182735000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10305056
+SHUFFLE	COMPRESS_BYTE_COUNT	3082966
+SHUFFLE	COPY_MAP_DATA	505865000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10461232
+SHUFFLE	COMPRESS_BYTE_COUNT	3102048
+SHUFFLE	COPY_MAP_DATA	313953000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11664336
+SHUFFLE	COMPRESS_BYTE_COUNT	3403135
+SHUFFLE	COPY_MAP_DATA	224167000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11972858
+SHUFFLE	COMPRESS_BYTE_COUNT	3463039
+SHUFFLE	COPY_MAP_DATA	185926000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10670244
+SHUFFLE	COMPRESS_BYTE_COUNT	3132868
+SHUFFLE	COPY_MAP_DATA	194591000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10467054
+SHUFFLE	COMPRESS_BYTE_COUNT	3084910
+SHUFFLE	COPY_MAP_DATA	565502000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12047262
+SHUFFLE	COMPRESS_BYTE_COUNT	3459603
+SHUFFLE	COPY_MAP_DATA	252225000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12481359
+SHUFFLE	COMPRESS_BYTE_COUNT	3637698
+SHUFFLE	COPY_MAP_DATA	209291000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11161128
+SHUFFLE	COMPRESS_BYTE_COUNT	3274681
+SHUFFLE	COPY_MAP_DATA	343793000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12722066
+SHUFFLE	COMPRESS_BYTE_COUNT	3678703
+SHUFFLE	COPY_MAP_DATA	193871000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12160916
+SHUFFLE	COMPRESS_BYTE_COUNT	3531037
+SHUFFLE	COPY_MAP_DATA	2566013000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12526940
+SHUFFLE	COMPRESS_BYTE_COUNT	3640558
+SHUFFLE	COPY_MAP_DATA	216632000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11685100
+SHUFFLE	COMPRESS_BYTE_COUNT	3417077
+SHUFFLE	COPY_MAP_DATA	570996000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13340793
+SHUFFLE	COMPRESS_BYTE_COUNT	3835464
+SHUFFLE	COPY_MAP_DATA	236421000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12972780
+SHUFFLE	COMPRESS_BYTE_COUNT	3748704
+SHUFFLE	COPY_MAP_DATA	208681000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12921822
+SHUFFLE	COMPRESS_BYTE_COUNT	3730841
+SHUFFLE	COPY_MAP_DATA	273242000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13014446
+SHUFFLE	COMPRESS_BYTE_COUNT	3767122
+SHUFFLE	COPY_MAP_DATA	385626000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12856234
+SHUFFLE	COMPRESS_BYTE_COUNT	3713882
+SHUFFLE	COPY_MAP_DATA	183519000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13614325
+SHUFFLE	COMPRESS_BYTE_COUNT	3881270
+SHUFFLE	COPY_MAP_DATA	208644000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13650924
+SHUFFLE	COMPRESS_BYTE_COUNT	3884454
+SHUFFLE	COPY_MAP_DATA	320632000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	161913004000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	COMBINE	161431248000
+MERGE	WRITE	66437395000
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	16361919000
+SORT	READ_WRITE	16251464000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	109785184
+REDUCE	SETUP	6611000
+REDUCE	SETUP_MEM	109785184
+REDUCE	CLEANUP	30000
+REDUCE	CLEANUP_MEM	75719696
+REDUCE	TOTAL_RUN	164474531000
+REDUCE	READ	24529798000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	104452426000
+REDUCE	WRITE	74717544000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	115465844
+REDUCE	VALUE_BYTE_COUNT	6902204
+REDUCE	REDUCE_MEM	75719696
+REDUCE	WRITE	17193000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	922045098703
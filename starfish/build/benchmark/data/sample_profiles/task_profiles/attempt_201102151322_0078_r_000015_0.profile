@@ -0,0 +1,149 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	8335214
+SHUFFLE	COMPRESS_BYTE_COUNT	2530549
+SHUFFLE	COPY_MAP_DATA	1855599000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	6940128
+SHUFFLE	COMPRESS_BYTE_COUNT	2162220
+SHUFFLE	COPY_MAP_DATA	150826000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9199832
+SHUFFLE	COMPRESS_BYTE_COUNT	2768233
+SHUFFLE	COPY_MAP_DATA	260696000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9587411
+SHUFFLE	COMPRESS_BYTE_COUNT	2863256
+SHUFFLE	COPY_MAP_DATA	193899000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9777914
+SHUFFLE	COMPRESS_BYTE_COUNT	2957157
+SHUFFLE	COPY_MAP_DATA	256093000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10312109
+SHUFFLE	COMPRESS_BYTE_COUNT	3042166
+SHUFFLE	COPY_MAP_DATA	184648000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10175842
+SHUFFLE	COMPRESS_BYTE_COUNT	3047129
+SHUFFLE	COPY_MAP_DATA	385279000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10585557
+SHUFFLE	COMPRESS_BYTE_COUNT	3138311
+SHUFFLE	COPY_MAP_DATA	268349000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10755842
+SHUFFLE	COMPRESS_BYTE_COUNT	3157255
+SHUFFLE	COPY_MAP_DATA	195667000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10261866
+SHUFFLE	COMPRESS_BYTE_COUNT	3049413
+SHUFFLE	COPY_MAP_DATA	184441000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10317428
+SHUFFLE	COMPRESS_BYTE_COUNT	3086092
+SHUFFLE	COPY_MAP_DATA	169241000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10540880
+SHUFFLE	COMPRESS_BYTE_COUNT	3126699
+SHUFFLE	COPY_MAP_DATA	428500000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12024472
+SHUFFLE	COMPRESS_BYTE_COUNT	3478602
+SHUFFLE	COPY_MAP_DATA	181884000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11640152
+SHUFFLE	COMPRESS_BYTE_COUNT	3395508
+SHUFFLE	COPY_MAP_DATA	373821000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10666948
+SHUFFLE	COMPRESS_BYTE_COUNT	3133967
+SHUFFLE	COPY_MAP_DATA	158740000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10428695
+SHUFFLE	COMPRESS_BYTE_COUNT	3075486
+SHUFFLE	COPY_MAP_DATA	159453000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12019632
+SHUFFLE	COMPRESS_BYTE_COUNT	3453304
+SHUFFLE	COPY_MAP_DATA	199036000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11159076
+SHUFFLE	COMPRESS_BYTE_COUNT	3288164
+SHUFFLE	COPY_MAP_DATA	202453000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12479040
+SHUFFLE	COMPRESS_BYTE_COUNT	3642104
+SHUFFLE	COPY_MAP_DATA	360555000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12697520
+SHUFFLE	COMPRESS_BYTE_COUNT	3674971
+SHUFFLE	COPY_MAP_DATA	198696000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12185032
+SHUFFLE	COMPRESS_BYTE_COUNT	3544515
+SHUFFLE	COPY_MAP_DATA	2051745000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12557022
+SHUFFLE	COMPRESS_BYTE_COUNT	3645493
+SHUFFLE	COPY_MAP_DATA	206895000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11669414
+SHUFFLE	COMPRESS_BYTE_COUNT	3413148
+SHUFFLE	COPY_MAP_DATA	437089000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13318989
+SHUFFLE	COMPRESS_BYTE_COUNT	3823575
+SHUFFLE	COPY_MAP_DATA	219117000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12983644
+SHUFFLE	COMPRESS_BYTE_COUNT	3764047
+SHUFFLE	COPY_MAP_DATA	1549619000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12857146
+SHUFFLE	COMPRESS_BYTE_COUNT	3707606
+SHUFFLE	COPY_MAP_DATA	191468000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12969382
+SHUFFLE	COMPRESS_BYTE_COUNT	3753606
+SHUFFLE	COPY_MAP_DATA	226062000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12847981
+SHUFFLE	COMPRESS_BYTE_COUNT	3709203
+SHUFFLE	COPY_MAP_DATA	201905000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13665846
+SHUFFLE	COMPRESS_BYTE_COUNT	3900731
+SHUFFLE	COPY_MAP_DATA	226419000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13591818
+SHUFFLE	COMPRESS_BYTE_COUNT	3864402
+SHUFFLE	COPY_MAP_DATA	329386000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	159984405000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	COMBINE	159788578000
+MERGE	WRITE	67826618000
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	18659613000
+SORT	READ_WRITE	18574151000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	104326616
+REDUCE	SETUP	319000
+REDUCE	SETUP_MEM	104326616
+REDUCE	CLEANUP	38000
+REDUCE	CLEANUP_MEM	91642784
+REDUCE	TOTAL_RUN	163795918000
+REDUCE	READ	24072760000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	105242197000
+REDUCE	WRITE	75246631000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	115453840
+REDUCE	VALUE_BYTE_COUNT	6902258
+REDUCE	REDUCE_MEM	91642784
+REDUCE	WRITE	21206000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	927041743000
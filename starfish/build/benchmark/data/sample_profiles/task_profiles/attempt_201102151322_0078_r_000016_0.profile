@@ -0,0 +1,149 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	8370234
+SHUFFLE	COMPRESS_BYTE_COUNT	2540357
+SHUFFLE	COPY_MAP_DATA	241938000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	6934418
+SHUFFLE	COMPRESS_BYTE_COUNT	2161316
+SHUFFLE	COPY_MAP_DATA	557062000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9209641
+SHUFFLE	COMPRESS_BYTE_COUNT	2770712
+SHUFFLE	COPY_MAP_DATA	1327846000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9627545
+SHUFFLE	COMPRESS_BYTE_COUNT	2880286
+SHUFFLE	COPY_MAP_DATA	219158000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9774914
+SHUFFLE	COMPRESS_BYTE_COUNT	2952416
+SHUFFLE	COPY_MAP_DATA	176580000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10273076
+SHUFFLE	COMPRESS_BYTE_COUNT	3035671
+SHUFFLE	COPY_MAP_DATA	253738000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10206672
+SHUFFLE	COMPRESS_BYTE_COUNT	3059698
+SHUFFLE	COPY_MAP_DATA	278766000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10584227
+SHUFFLE	COMPRESS_BYTE_COUNT	3136685
+SHUFFLE	COPY_MAP_DATA	187639000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10257888
+SHUFFLE	COMPRESS_BYTE_COUNT	3052673
+SHUFFLE	COPY_MAP_DATA	177136000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10703108
+SHUFFLE	COMPRESS_BYTE_COUNT	3141172
+SHUFFLE	COPY_MAP_DATA	237690000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10310546
+SHUFFLE	COMPRESS_BYTE_COUNT	3084725
+SHUFFLE	COPY_MAP_DATA	165093000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10515634
+SHUFFLE	COMPRESS_BYTE_COUNT	3119814
+SHUFFLE	COPY_MAP_DATA	436191000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11967642
+SHUFFLE	COMPRESS_BYTE_COUNT	3460467
+SHUFFLE	COPY_MAP_DATA	174638000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11639824
+SHUFFLE	COMPRESS_BYTE_COUNT	3396174
+SHUFFLE	COPY_MAP_DATA	255587000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10680456
+SHUFFLE	COMPRESS_BYTE_COUNT	3126898
+SHUFFLE	COPY_MAP_DATA	156554000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10434664
+SHUFFLE	COMPRESS_BYTE_COUNT	3079124
+SHUFFLE	COPY_MAP_DATA	165401000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12015778
+SHUFFLE	COMPRESS_BYTE_COUNT	3450670
+SHUFFLE	COPY_MAP_DATA	265213000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12458485
+SHUFFLE	COMPRESS_BYTE_COUNT	3631139
+SHUFFLE	COPY_MAP_DATA	192057000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11161508
+SHUFFLE	COMPRESS_BYTE_COUNT	3283327
+SHUFFLE	COPY_MAP_DATA	217935000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12736490
+SHUFFLE	COMPRESS_BYTE_COUNT	3684249
+SHUFFLE	COPY_MAP_DATA	347029000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12188494
+SHUFFLE	COMPRESS_BYTE_COUNT	3542932
+SHUFFLE	COPY_MAP_DATA	2021116000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11695680
+SHUFFLE	COMPRESS_BYTE_COUNT	3424415
+SHUFFLE	COPY_MAP_DATA	402088000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12551343
+SHUFFLE	COMPRESS_BYTE_COUNT	3649831
+SHUFFLE	COPY_MAP_DATA	294266000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13366317
+SHUFFLE	COMPRESS_BYTE_COUNT	3844470
+SHUFFLE	COPY_MAP_DATA	187750000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12975384
+SHUFFLE	COMPRESS_BYTE_COUNT	3753616
+SHUFFLE	COPY_MAP_DATA	227824000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12900026
+SHUFFLE	COMPRESS_BYTE_COUNT	3723719
+SHUFFLE	COPY_MAP_DATA	195819000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13012856
+SHUFFLE	COMPRESS_BYTE_COUNT	3763819
+SHUFFLE	COPY_MAP_DATA	343343000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12857152
+SHUFFLE	COMPRESS_BYTE_COUNT	3710065
+SHUFFLE	COPY_MAP_DATA	200486000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13649794
+SHUFFLE	COMPRESS_BYTE_COUNT	3892848
+SHUFFLE	COPY_MAP_DATA	210760000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13637504
+SHUFFLE	COMPRESS_BYTE_COUNT	3878961
+SHUFFLE	COPY_MAP_DATA	655876000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	157497314000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	COMBINE	157296995000
+MERGE	WRITE	66568647000
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	17530629000
+SORT	READ_WRITE	17429828000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	233582832
+REDUCE	SETUP	350000
+REDUCE	SETUP_MEM	233582832
+REDUCE	CLEANUP	35000
+REDUCE	CLEANUP_MEM	240117208
+REDUCE	TOTAL_RUN	161518515000
+REDUCE	READ	24257881000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	103257643000
+REDUCE	WRITE	74251781000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	115453110
+REDUCE	VALUE_BYTE_COUNT	6902457
+REDUCE	REDUCE_MEM	240117208
+REDUCE	WRITE	80430000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	924014148000
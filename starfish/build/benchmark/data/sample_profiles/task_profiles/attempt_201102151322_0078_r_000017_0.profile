@@ -0,0 +1,149 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	8366498
+SHUFFLE	COMPRESS_BYTE_COUNT	2539852
+SHUFFLE	COPY_MAP_DATA	1232119000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	6916506
+SHUFFLE	COMPRESS_BYTE_COUNT	2153678
+SHUFFLE	COPY_MAP_DATA	216650000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9160244
+SHUFFLE	COMPRESS_BYTE_COUNT	2758707
+SHUFFLE	COPY_MAP_DATA	868226000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9583415
+SHUFFLE	COMPRESS_BYTE_COUNT	2867686
+SHUFFLE	COPY_MAP_DATA	251851000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9757732
+SHUFFLE	COMPRESS_BYTE_COUNT	2954735
+SHUFFLE	COPY_MAP_DATA	167654000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10279026
+SHUFFLE	COMPRESS_BYTE_COUNT	3035281
+SHUFFLE	COPY_MAP_DATA	169699000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10168688
+SHUFFLE	COMPRESS_BYTE_COUNT	3047139
+SHUFFLE	COPY_MAP_DATA	270348000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10581224
+SHUFFLE	COMPRESS_BYTE_COUNT	3137883
+SHUFFLE	COPY_MAP_DATA	330804000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10256736
+SHUFFLE	COMPRESS_BYTE_COUNT	3060948
+SHUFFLE	COPY_MAP_DATA	999905000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10721596
+SHUFFLE	COMPRESS_BYTE_COUNT	3150116
+SHUFFLE	COPY_MAP_DATA	1575733000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10278496
+SHUFFLE	COMPRESS_BYTE_COUNT	3080709
+SHUFFLE	COPY_MAP_DATA	180997000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10534266
+SHUFFLE	COMPRESS_BYTE_COUNT	3132876
+SHUFFLE	COPY_MAP_DATA	214346000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11670672
+SHUFFLE	COMPRESS_BYTE_COUNT	3403500
+SHUFFLE	COPY_MAP_DATA	208461000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11933908
+SHUFFLE	COMPRESS_BYTE_COUNT	3448746
+SHUFFLE	COPY_MAP_DATA	328613000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10659450
+SHUFFLE	COMPRESS_BYTE_COUNT	3129036
+SHUFFLE	COPY_MAP_DATA	163287000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10445090
+SHUFFLE	COMPRESS_BYTE_COUNT	3084684
+SHUFFLE	COPY_MAP_DATA	4730645000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12024835
+SHUFFLE	COMPRESS_BYTE_COUNT	3452809
+SHUFFLE	COPY_MAP_DATA	444827000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12450244
+SHUFFLE	COMPRESS_BYTE_COUNT	3632368
+SHUFFLE	COPY_MAP_DATA	1053246000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11159790
+SHUFFLE	COMPRESS_BYTE_COUNT	3284242
+SHUFFLE	COPY_MAP_DATA	898781000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12728236
+SHUFFLE	COMPRESS_BYTE_COUNT	3689775
+SHUFFLE	COPY_MAP_DATA	1114672000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12183441
+SHUFFLE	COMPRESS_BYTE_COUNT	3540809
+SHUFFLE	COPY_MAP_DATA	2382270000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12541366
+SHUFFLE	COMPRESS_BYTE_COUNT	3649375
+SHUFFLE	COPY_MAP_DATA	174654000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11716103
+SHUFFLE	COMPRESS_BYTE_COUNT	3433030
+SHUFFLE	COPY_MAP_DATA	267710000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13307051
+SHUFFLE	COMPRESS_BYTE_COUNT	3827993
+SHUFFLE	COPY_MAP_DATA	235093000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12943666
+SHUFFLE	COMPRESS_BYTE_COUNT	3742244
+SHUFFLE	COPY_MAP_DATA	228188000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12867538
+SHUFFLE	COMPRESS_BYTE_COUNT	3723996
+SHUFFLE	COPY_MAP_DATA	216771000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12984062
+SHUFFLE	COMPRESS_BYTE_COUNT	3759807
+SHUFFLE	COPY_MAP_DATA	388101000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12850918
+SHUFFLE	COMPRESS_BYTE_COUNT	3701525
+SHUFFLE	COPY_MAP_DATA	477243000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13625083
+SHUFFLE	COMPRESS_BYTE_COUNT	3885293
+SHUFFLE	COPY_MAP_DATA	201141000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13621518
+SHUFFLE	COMPRESS_BYTE_COUNT	3870913
+SHUFFLE	COPY_MAP_DATA	263505000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	195821488000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	COMBINE	195094786000
+MERGE	WRITE	84069378000
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	24144783000
+SORT	READ_WRITE	24035473000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	74424776
+REDUCE	SETUP	8381000
+REDUCE	SETUP_MEM	74424776
+REDUCE	CLEANUP	36000
+REDUCE	CLEANUP_MEM	105946640
+REDUCE	TOTAL_RUN	161659453000
+REDUCE	READ	23724679000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	103923486000
+REDUCE	WRITE	72585968000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	115384824
+REDUCE	VALUE_BYTE_COUNT	6899487
+REDUCE	REDUCE_MEM	105946640
+REDUCE	WRITE	38845000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	928448451000
@@ -0,0 +1,149 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	8358216
+SHUFFLE	COMPRESS_BYTE_COUNT	2529778
+SHUFFLE	COPY_MAP_DATA	604731000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	6908016
+SHUFFLE	COMPRESS_BYTE_COUNT	2152093
+SHUFFLE	COPY_MAP_DATA	2892536000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9241980
+SHUFFLE	COMPRESS_BYTE_COUNT	2776332
+SHUFFLE	COPY_MAP_DATA	942129000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9623990
+SHUFFLE	COMPRESS_BYTE_COUNT	2872062
+SHUFFLE	COPY_MAP_DATA	1161454000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9829651
+SHUFFLE	COMPRESS_BYTE_COUNT	2975710
+SHUFFLE	COPY_MAP_DATA	525309000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10329290
+SHUFFLE	COMPRESS_BYTE_COUNT	3048969
+SHUFFLE	COPY_MAP_DATA	495939000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10217064
+SHUFFLE	COMPRESS_BYTE_COUNT	3054884
+SHUFFLE	COPY_MAP_DATA	1168348000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10580068
+SHUFFLE	COMPRESS_BYTE_COUNT	3135868
+SHUFFLE	COPY_MAP_DATA	177846000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10746578
+SHUFFLE	COMPRESS_BYTE_COUNT	3155392
+SHUFFLE	COPY_MAP_DATA	932955000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10245091
+SHUFFLE	COMPRESS_BYTE_COUNT	3048773
+SHUFFLE	COPY_MAP_DATA	213949000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10305423
+SHUFFLE	COMPRESS_BYTE_COUNT	3079788
+SHUFFLE	COPY_MAP_DATA	193815000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12001688
+SHUFFLE	COMPRESS_BYTE_COUNT	3465455
+SHUFFLE	COPY_MAP_DATA	1129347000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10537418
+SHUFFLE	COMPRESS_BYTE_COUNT	3123945
+SHUFFLE	COPY_MAP_DATA	162073000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11690568
+SHUFFLE	COMPRESS_BYTE_COUNT	3407191
+SHUFFLE	COPY_MAP_DATA	312145000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10685958
+SHUFFLE	COMPRESS_BYTE_COUNT	3133857
+SHUFFLE	COPY_MAP_DATA	163885000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10487430
+SHUFFLE	COMPRESS_BYTE_COUNT	3091058
+SHUFFLE	COPY_MAP_DATA	1181973000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12075746
+SHUFFLE	COMPRESS_BYTE_COUNT	3463414
+SHUFFLE	COPY_MAP_DATA	238657000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11180192
+SHUFFLE	COMPRESS_BYTE_COUNT	3278591
+SHUFFLE	COPY_MAP_DATA	399079000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12472244
+SHUFFLE	COMPRESS_BYTE_COUNT	3634255
+SHUFFLE	COPY_MAP_DATA	188300000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12766448
+SHUFFLE	COMPRESS_BYTE_COUNT	3686149
+SHUFFLE	COPY_MAP_DATA	438216000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12228517
+SHUFFLE	COMPRESS_BYTE_COUNT	3547424
+SHUFFLE	COPY_MAP_DATA	211161000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12567592
+SHUFFLE	COMPRESS_BYTE_COUNT	3646165
+SHUFFLE	COPY_MAP_DATA	213396000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11658423
+SHUFFLE	COMPRESS_BYTE_COUNT	3404269
+SHUFFLE	COPY_MAP_DATA	722420000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13351418
+SHUFFLE	COMPRESS_BYTE_COUNT	3831411
+SHUFFLE	COPY_MAP_DATA	198462000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13004480
+SHUFFLE	COMPRESS_BYTE_COUNT	3754152
+SHUFFLE	COPY_MAP_DATA	406223000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12918006
+SHUFFLE	COMPRESS_BYTE_COUNT	3727535
+SHUFFLE	COPY_MAP_DATA	182210000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13015795
+SHUFFLE	COMPRESS_BYTE_COUNT	3761197
+SHUFFLE	COPY_MAP_DATA	623421000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12864702
+SHUFFLE	COMPRESS_BYTE_COUNT	3705459
+SHUFFLE	COPY_MAP_DATA	344707000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13649309
+SHUFFLE	COMPRESS_BYTE_COUNT	3892561
+SHUFFLE	COPY_MAP_DATA	196278000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13611293
+SHUFFLE	COMPRESS_BYTE_COUNT	3873095
+SHUFFLE	COPY_MAP_DATA	704828000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	159940928000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	COMBINE	159249559000
+MERGE	WRITE	64099426000
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	35492618000
+SORT	READ_WRITE	35395341000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	104115824
+REDUCE	SETUP	385000
+REDUCE	SETUP_MEM	104115824
+REDUCE	CLEANUP	79000
+REDUCE	CLEANUP_MEM	155200072
+REDUCE	TOTAL_RUN	174157515000
+REDUCE	READ	27344524000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	111764945000
+REDUCE	WRITE	77005811000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	115285098
+REDUCE	VALUE_BYTE_COUNT	6895638
+REDUCE	REDUCE_MEM	155200072
+REDUCE	WRITE	18455000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	947461019297
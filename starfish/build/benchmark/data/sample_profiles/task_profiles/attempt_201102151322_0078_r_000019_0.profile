@@ -0,0 +1,149 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	6915534
+SHUFFLE	COMPRESS_BYTE_COUNT	2152224
+SHUFFLE	COPY_MAP_DATA	516526000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	8354768
+SHUFFLE	COMPRESS_BYTE_COUNT	2532124
+SHUFFLE	COPY_MAP_DATA	382500000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9193762
+SHUFFLE	COMPRESS_BYTE_COUNT	2769618
+SHUFFLE	COPY_MAP_DATA	229791000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9617728
+SHUFFLE	COMPRESS_BYTE_COUNT	2870494
+SHUFFLE	COPY_MAP_DATA	208954000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9800218
+SHUFFLE	COMPRESS_BYTE_COUNT	2961049
+SHUFFLE	COPY_MAP_DATA	170765000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10333004
+SHUFFLE	COMPRESS_BYTE_COUNT	3050818
+SHUFFLE	COPY_MAP_DATA	1276537000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10125196
+SHUFFLE	COMPRESS_BYTE_COUNT	3038205
+SHUFFLE	COPY_MAP_DATA	416116000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10589352
+SHUFFLE	COMPRESS_BYTE_COUNT	3137109
+SHUFFLE	COPY_MAP_DATA	343340000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10756770
+SHUFFLE	COMPRESS_BYTE_COUNT	3155610
+SHUFFLE	COPY_MAP_DATA	240132000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10245953
+SHUFFLE	COMPRESS_BYTE_COUNT	3052739
+SHUFFLE	COPY_MAP_DATA	181785000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10292748
+SHUFFLE	COMPRESS_BYTE_COUNT	3071664
+SHUFFLE	COPY_MAP_DATA	188082000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10516668
+SHUFFLE	COMPRESS_BYTE_COUNT	3121089
+SHUFFLE	COPY_MAP_DATA	235089000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11975069
+SHUFFLE	COMPRESS_BYTE_COUNT	3461738
+SHUFFLE	COPY_MAP_DATA	178926000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10653360
+SHUFFLE	COMPRESS_BYTE_COUNT	3124053
+SHUFFLE	COPY_MAP_DATA	232640000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11646362
+SHUFFLE	COMPRESS_BYTE_COUNT	3395362
+SHUFFLE	COPY_MAP_DATA	204529000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10418117
+SHUFFLE	COMPRESS_BYTE_COUNT	3077370
+SHUFFLE	COPY_MAP_DATA	408234000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12018944
+SHUFFLE	COMPRESS_BYTE_COUNT	3450840
+SHUFFLE	COPY_MAP_DATA	184493000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12439754
+SHUFFLE	COMPRESS_BYTE_COUNT	3627668
+SHUFFLE	COPY_MAP_DATA	207545000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11191040
+SHUFFLE	COMPRESS_BYTE_COUNT	3288720
+SHUFFLE	COPY_MAP_DATA	754967000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12739160
+SHUFFLE	COMPRESS_BYTE_COUNT	3685253
+SHUFFLE	COPY_MAP_DATA	235442000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12189892
+SHUFFLE	COMPRESS_BYTE_COUNT	3545171
+SHUFFLE	COPY_MAP_DATA	1892050000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12589386
+SHUFFLE	COMPRESS_BYTE_COUNT	3660690
+SHUFFLE	COPY_MAP_DATA	1454504000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11668866
+SHUFFLE	COMPRESS_BYTE_COUNT	3419684
+SHUFFLE	COPY_MAP_DATA	183898000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13382492
+SHUFFLE	COMPRESS_BYTE_COUNT	3848130
+SHUFFLE	COPY_MAP_DATA	202903000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12931306
+SHUFFLE	COMPRESS_BYTE_COUNT	3739420
+SHUFFLE	COPY_MAP_DATA	330810000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12890922
+SHUFFLE	COMPRESS_BYTE_COUNT	3712266
+SHUFFLE	COPY_MAP_DATA	240309000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13011636
+SHUFFLE	COMPRESS_BYTE_COUNT	3767247
+SHUFFLE	COPY_MAP_DATA	237538000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12833640
+SHUFFLE	COMPRESS_BYTE_COUNT	3703812
+SHUFFLE	COPY_MAP_DATA	413915000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13644252
+SHUFFLE	COMPRESS_BYTE_COUNT	3887523
+SHUFFLE	COPY_MAP_DATA	200391000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13644646
+SHUFFLE	COMPRESS_BYTE_COUNT	3875505
+SHUFFLE	COPY_MAP_DATA	358537000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	156325053517
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	COMBINE	156085124517
+MERGE	WRITE	65570561000
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	24496399000
+SORT	READ_WRITE	24410132000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	212664800
+REDUCE	SETUP	382000
+REDUCE	SETUP_MEM	212664800
+REDUCE	CLEANUP	36000
+REDUCE	CLEANUP_MEM	195688640
+REDUCE	TOTAL_RUN	160298423000
+REDUCE	READ	24412452000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	102293598000
+REDUCE	WRITE	72579794000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	115349414
+REDUCE	VALUE_BYTE_COUNT	6896354
+REDUCE	REDUCE_MEM	197322072
+REDUCE	WRITE	48431000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	930060723517
@@ -0,0 +1,149 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	6912028
+SHUFFLE	COMPRESS_BYTE_COUNT	2154358
+SHUFFLE	COPY_MAP_DATA	413035000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	8337192
+SHUFFLE	COMPRESS_BYTE_COUNT	2534740
+SHUFFLE	COPY_MAP_DATA	405489000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9224280
+SHUFFLE	COMPRESS_BYTE_COUNT	2778484
+SHUFFLE	COPY_MAP_DATA	868112000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9562578
+SHUFFLE	COMPRESS_BYTE_COUNT	2853118
+SHUFFLE	COPY_MAP_DATA	438420000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9768338
+SHUFFLE	COMPRESS_BYTE_COUNT	2954425
+SHUFFLE	COPY_MAP_DATA	316324000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10288449
+SHUFFLE	COMPRESS_BYTE_COUNT	3032156
+SHUFFLE	COPY_MAP_DATA	368847000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10175530
+SHUFFLE	COMPRESS_BYTE_COUNT	3045535
+SHUFFLE	COPY_MAP_DATA	1387817000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10569720
+SHUFFLE	COMPRESS_BYTE_COUNT	3136871
+SHUFFLE	COPY_MAP_DATA	338389000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10734762
+SHUFFLE	COMPRESS_BYTE_COUNT	3151285
+SHUFFLE	COPY_MAP_DATA	203432000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10219462
+SHUFFLE	COMPRESS_BYTE_COUNT	3041012
+SHUFFLE	COPY_MAP_DATA	168530000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10271962
+SHUFFLE	COMPRESS_BYTE_COUNT	3072798
+SHUFFLE	COPY_MAP_DATA	171169000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11607778
+SHUFFLE	COMPRESS_BYTE_COUNT	3387692
+SHUFFLE	COPY_MAP_DATA	217913000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11971806
+SHUFFLE	COMPRESS_BYTE_COUNT	3472192
+SHUFFLE	COPY_MAP_DATA	173617000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10482913
+SHUFFLE	COMPRESS_BYTE_COUNT	3113115
+SHUFFLE	COPY_MAP_DATA	212304000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10642458
+SHUFFLE	COMPRESS_BYTE_COUNT	3128746
+SHUFFLE	COPY_MAP_DATA	162532000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10430760
+SHUFFLE	COMPRESS_BYTE_COUNT	3081644
+SHUFFLE	COPY_MAP_DATA	149279000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12025254
+SHUFFLE	COMPRESS_BYTE_COUNT	3452617
+SHUFFLE	COPY_MAP_DATA	185896000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11129124
+SHUFFLE	COMPRESS_BYTE_COUNT	3269574
+SHUFFLE	COPY_MAP_DATA	159606000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12389440
+SHUFFLE	COMPRESS_BYTE_COUNT	3616321
+SHUFFLE	COPY_MAP_DATA	220725000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12731851
+SHUFFLE	COMPRESS_BYTE_COUNT	3681167
+SHUFFLE	COPY_MAP_DATA	179347000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12222170
+SHUFFLE	COMPRESS_BYTE_COUNT	3551663
+SHUFFLE	COPY_MAP_DATA	374976000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12560432
+SHUFFLE	COMPRESS_BYTE_COUNT	3653026
+SHUFFLE	COPY_MAP_DATA	504530000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11641408
+SHUFFLE	COMPRESS_BYTE_COUNT	3405497
+SHUFFLE	COPY_MAP_DATA	304785000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13326766
+SHUFFLE	COMPRESS_BYTE_COUNT	3836257
+SHUFFLE	COPY_MAP_DATA	393006000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12988027
+SHUFFLE	COMPRESS_BYTE_COUNT	3760097
+SHUFFLE	COPY_MAP_DATA	184534000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12837486
+SHUFFLE	COMPRESS_BYTE_COUNT	3708637
+SHUFFLE	COPY_MAP_DATA	251558000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13014980
+SHUFFLE	COMPRESS_BYTE_COUNT	3771626
+SHUFFLE	COPY_MAP_DATA	229952000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12839981
+SHUFFLE	COMPRESS_BYTE_COUNT	3701234
+SHUFFLE	COPY_MAP_DATA	265152000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13627238
+SHUFFLE	COMPRESS_BYTE_COUNT	3883560
+SHUFFLE	COPY_MAP_DATA	343048000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13636664
+SHUFFLE	COMPRESS_BYTE_COUNT	3881846
+SHUFFLE	COPY_MAP_DATA	411414000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	162643212448
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	COMBINE	162408050448
+MERGE	WRITE	67673616537
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	30835515817
+SORT	READ_WRITE	30722251817
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	126116024
+REDUCE	SETUP	336000
+REDUCE	SETUP_MEM	126116024
+REDUCE	CLEANUP	51000
+REDUCE	CLEANUP_MEM	115875232
+REDUCE	TOTAL_RUN	182299159351
+REDUCE	READ	23062014007
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	112718972344
+REDUCE	WRITE	77371614000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	115373388
+REDUCE	VALUE_BYTE_COUNT	6898651
+REDUCE	REDUCE_MEM	115877280
+REDUCE	WRITE	16641000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	960368435772
@@ -0,0 +1,149 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	6949286
+SHUFFLE	COMPRESS_BYTE_COUNT	2160968
+SHUFFLE	COPY_MAP_DATA	722123000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	8410250
+SHUFFLE	COMPRESS_BYTE_COUNT	2542764
+SHUFFLE	COPY_MAP_DATA	385302000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9245034
+SHUFFLE	COMPRESS_BYTE_COUNT	2775890
+SHUFFLE	COPY_MAP_DATA	355616000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9644177
+SHUFFLE	COMPRESS_BYTE_COUNT	2872458
+SHUFFLE	COPY_MAP_DATA	204521000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9847487
+SHUFFLE	COMPRESS_BYTE_COUNT	2966750
+SHUFFLE	COPY_MAP_DATA	159488000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10301848
+SHUFFLE	COMPRESS_BYTE_COUNT	3032620
+SHUFFLE	COPY_MAP_DATA	745046000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10235512
+SHUFFLE	COMPRESS_BYTE_COUNT	3054533
+SHUFFLE	COPY_MAP_DATA	172005000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10581226
+SHUFFLE	COMPRESS_BYTE_COUNT	3130219
+SHUFFLE	COPY_MAP_DATA	342896000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10773730
+SHUFFLE	COMPRESS_BYTE_COUNT	3161460
+SHUFFLE	COPY_MAP_DATA	171241000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10278948
+SHUFFLE	COMPRESS_BYTE_COUNT	3051644
+SHUFFLE	COPY_MAP_DATA	219911000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10369929
+SHUFFLE	COMPRESS_BYTE_COUNT	3097846
+SHUFFLE	COPY_MAP_DATA	182927000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10539171
+SHUFFLE	COMPRESS_BYTE_COUNT	3113953
+SHUFFLE	COPY_MAP_DATA	403408000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10716415
+SHUFFLE	COMPRESS_BYTE_COUNT	3133295
+SHUFFLE	COPY_MAP_DATA	523480000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12000734
+SHUFFLE	COMPRESS_BYTE_COUNT	3465280
+SHUFFLE	COPY_MAP_DATA	1113632000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11707382
+SHUFFLE	COMPRESS_BYTE_COUNT	3407383
+SHUFFLE	COPY_MAP_DATA	249256000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10520573
+SHUFFLE	COMPRESS_BYTE_COUNT	3095899
+SHUFFLE	COPY_MAP_DATA	163214000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12096174
+SHUFFLE	COMPRESS_BYTE_COUNT	3460965
+SHUFFLE	COPY_MAP_DATA	192569000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12507615
+SHUFFLE	COMPRESS_BYTE_COUNT	3633914
+SHUFFLE	COPY_MAP_DATA	205681000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11207939
+SHUFFLE	COMPRESS_BYTE_COUNT	3281597
+SHUFFLE	COPY_MAP_DATA	164398000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12775906
+SHUFFLE	COMPRESS_BYTE_COUNT	3680947
+SHUFFLE	COPY_MAP_DATA	374037000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12214974
+SHUFFLE	COMPRESS_BYTE_COUNT	3543612
+SHUFFLE	COPY_MAP_DATA	198751000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12617678
+SHUFFLE	COMPRESS_BYTE_COUNT	3659191
+SHUFFLE	COPY_MAP_DATA	519486000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11738516
+SHUFFLE	COMPRESS_BYTE_COUNT	3428714
+SHUFFLE	COPY_MAP_DATA	405085000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13392728
+SHUFFLE	COMPRESS_BYTE_COUNT	3842067
+SHUFFLE	COPY_MAP_DATA	219498000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13043974
+SHUFFLE	COMPRESS_BYTE_COUNT	3759394
+SHUFFLE	COPY_MAP_DATA	510918000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12981360
+SHUFFLE	COMPRESS_BYTE_COUNT	3731899
+SHUFFLE	COPY_MAP_DATA	222528000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13060214
+SHUFFLE	COMPRESS_BYTE_COUNT	3765793
+SHUFFLE	COPY_MAP_DATA	207547000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12907278
+SHUFFLE	COMPRESS_BYTE_COUNT	3712285
+SHUFFLE	COPY_MAP_DATA	1099307000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13670124
+SHUFFLE	COMPRESS_BYTE_COUNT	3893020
+SHUFFLE	COPY_MAP_DATA	203479000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13708520
+SHUFFLE	COMPRESS_BYTE_COUNT	3881655
+SHUFFLE	COPY_MAP_DATA	188396000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	158103586000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	COMBINE	157917306000
+MERGE	WRITE	67771367000
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	18058522000
+SORT	READ_WRITE	17962848000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	210236240
+REDUCE	SETUP	295000
+REDUCE	SETUP_MEM	210236240
+REDUCE	CLEANUP	32000
+REDUCE	CLEANUP_MEM	249406016
+REDUCE	TOTAL_RUN	161845559000
+REDUCE	READ	23811749000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	104219301000
+REDUCE	WRITE	74664556000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	115421434
+REDUCE	VALUE_BYTE_COUNT	6901667
+REDUCE	REDUCE_MEM	249406016
+REDUCE	WRITE	72797000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	922302641067
@@ -0,0 +1,149 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	8362400
+SHUFFLE	COMPRESS_BYTE_COUNT	2535419
+SHUFFLE	COPY_MAP_DATA	830913000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	6929922
+SHUFFLE	COMPRESS_BYTE_COUNT	2162964
+SHUFFLE	COPY_MAP_DATA	2246449000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9203232
+SHUFFLE	COMPRESS_BYTE_COUNT	2769874
+SHUFFLE	COPY_MAP_DATA	544497000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9586920
+SHUFFLE	COMPRESS_BYTE_COUNT	2871078
+SHUFFLE	COPY_MAP_DATA	247925000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9787050
+SHUFFLE	COMPRESS_BYTE_COUNT	2965443
+SHUFFLE	COPY_MAP_DATA	429071000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10289376
+SHUFFLE	COMPRESS_BYTE_COUNT	3044091
+SHUFFLE	COPY_MAP_DATA	476075000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10184898
+SHUFFLE	COMPRESS_BYTE_COUNT	3053911
+SHUFFLE	COPY_MAP_DATA	460157000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10584298
+SHUFFLE	COMPRESS_BYTE_COUNT	3136040
+SHUFFLE	COPY_MAP_DATA	633981000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10198152
+SHUFFLE	COMPRESS_BYTE_COUNT	3032115
+SHUFFLE	COPY_MAP_DATA	549310000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10700498
+SHUFFLE	COMPRESS_BYTE_COUNT	3147028
+SHUFFLE	COPY_MAP_DATA	279252000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10271326
+SHUFFLE	COMPRESS_BYTE_COUNT	3076121
+SHUFFLE	COPY_MAP_DATA	705326000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11970230
+SHUFFLE	COMPRESS_BYTE_COUNT	3463361
+SHUFFLE	COPY_MAP_DATA	361391000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11640860
+SHUFFLE	COMPRESS_BYTE_COUNT	3393792
+SHUFFLE	COPY_MAP_DATA	273368000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10540116
+SHUFFLE	COMPRESS_BYTE_COUNT	3129231
+SHUFFLE	COPY_MAP_DATA	619050000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10621902
+SHUFFLE	COMPRESS_BYTE_COUNT	3122200
+SHUFFLE	COPY_MAP_DATA	231740000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10416148
+SHUFFLE	COMPRESS_BYTE_COUNT	3075151
+SHUFFLE	COPY_MAP_DATA	152897000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12007070
+SHUFFLE	COMPRESS_BYTE_COUNT	3447546
+SHUFFLE	COPY_MAP_DATA	641454000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11146684
+SHUFFLE	COMPRESS_BYTE_COUNT	3281947
+SHUFFLE	COPY_MAP_DATA	218845000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12439630
+SHUFFLE	COMPRESS_BYTE_COUNT	3629577
+SHUFFLE	COPY_MAP_DATA	262155000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12739020
+SHUFFLE	COMPRESS_BYTE_COUNT	3696080
+SHUFFLE	COPY_MAP_DATA	244120000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12170082
+SHUFFLE	COMPRESS_BYTE_COUNT	3542532
+SHUFFLE	COPY_MAP_DATA	272331000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12498409
+SHUFFLE	COMPRESS_BYTE_COUNT	3641362
+SHUFFLE	COPY_MAP_DATA	188189000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11624138
+SHUFFLE	COMPRESS_BYTE_COUNT	3405047
+SHUFFLE	COPY_MAP_DATA	348757000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13286868
+SHUFFLE	COMPRESS_BYTE_COUNT	3822473
+SHUFFLE	COPY_MAP_DATA	191721000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12987156
+SHUFFLE	COMPRESS_BYTE_COUNT	3760221
+SHUFFLE	COPY_MAP_DATA	198584000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12862096
+SHUFFLE	COMPRESS_BYTE_COUNT	3714141
+SHUFFLE	COPY_MAP_DATA	255995000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12970116
+SHUFFLE	COMPRESS_BYTE_COUNT	3754316
+SHUFFLE	COPY_MAP_DATA	272660000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12846730
+SHUFFLE	COMPRESS_BYTE_COUNT	3714403
+SHUFFLE	COPY_MAP_DATA	220009000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13653924
+SHUFFLE	COMPRESS_BYTE_COUNT	3895325
+SHUFFLE	COPY_MAP_DATA	209782000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13619127
+SHUFFLE	COMPRESS_BYTE_COUNT	3872134
+SHUFFLE	COPY_MAP_DATA	183904000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	235334723303
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	COMBINE	235057790303
+MERGE	WRITE	86720904202
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	30863190000
+SORT	READ_WRITE	30786303000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	93550352
+REDUCE	SETUP	385000
+REDUCE	SETUP_MEM	93550352
+REDUCE	CLEANUP	42000
+REDUCE	CLEANUP_MEM	78889072
+REDUCE	TOTAL_RUN	177923053303
+REDUCE	READ	22427629101
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	109922919202
+REDUCE	WRITE	75277008202
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	115453824
+REDUCE	VALUE_BYTE_COUNT	6902429
+REDUCE	REDUCE_MEM	78889072
+REDUCE	WRITE	17440000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	952070836028
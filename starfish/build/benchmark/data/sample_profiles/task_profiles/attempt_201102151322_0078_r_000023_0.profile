@@ -0,0 +1,149 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	6963690
+SHUFFLE	COMPRESS_BYTE_COUNT	2165965
+SHUFFLE	COPY_MAP_DATA	376711000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	8393714
+SHUFFLE	COMPRESS_BYTE_COUNT	2540995
+SHUFFLE	COPY_MAP_DATA	268041000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9254740
+SHUFFLE	COMPRESS_BYTE_COUNT	2775768
+SHUFFLE	COPY_MAP_DATA	834369000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9631488
+SHUFFLE	COMPRESS_BYTE_COUNT	2865854
+SHUFFLE	COPY_MAP_DATA	382137000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9836190
+SHUFFLE	COMPRESS_BYTE_COUNT	2969258
+SHUFFLE	COPY_MAP_DATA	176148000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10329420
+SHUFFLE	COMPRESS_BYTE_COUNT	3043701
+SHUFFLE	COPY_MAP_DATA	173342000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10207874
+SHUFFLE	COMPRESS_BYTE_COUNT	3048801
+SHUFFLE	COPY_MAP_DATA	169522000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10627860
+SHUFFLE	COMPRESS_BYTE_COUNT	3137850
+SHUFFLE	COPY_MAP_DATA	408702577
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10804348
+SHUFFLE	COMPRESS_BYTE_COUNT	3161487
+SHUFFLE	COPY_MAP_DATA	183601000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10311938
+SHUFFLE	COMPRESS_BYTE_COUNT	3056450
+SHUFFLE	COPY_MAP_DATA	170515000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10379764
+SHUFFLE	COMPRESS_BYTE_COUNT	3090980
+SHUFFLE	COPY_MAP_DATA	170443000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11734026
+SHUFFLE	COMPRESS_BYTE_COUNT	3418091
+SHUFFLE	COPY_MAP_DATA	461294000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10586165
+SHUFFLE	COMPRESS_BYTE_COUNT	3132524
+SHUFFLE	COPY_MAP_DATA	424318000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12064782
+SHUFFLE	COMPRESS_BYTE_COUNT	3474770
+SHUFFLE	COPY_MAP_DATA	352520000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10722152
+SHUFFLE	COMPRESS_BYTE_COUNT	3139146
+SHUFFLE	COPY_MAP_DATA	160124000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10477955
+SHUFFLE	COMPRESS_BYTE_COUNT	3078716
+SHUFFLE	COPY_MAP_DATA	172388000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12085646
+SHUFFLE	COMPRESS_BYTE_COUNT	3461793
+SHUFFLE	COPY_MAP_DATA	178073000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12543922
+SHUFFLE	COMPRESS_BYTE_COUNT	3635845
+SHUFFLE	COPY_MAP_DATA	185424000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11255980
+SHUFFLE	COMPRESS_BYTE_COUNT	3294090
+SHUFFLE	COPY_MAP_DATA	326176000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12813286
+SHUFFLE	COMPRESS_BYTE_COUNT	3688712
+SHUFFLE	COPY_MAP_DATA	415915000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12240102
+SHUFFLE	COMPRESS_BYTE_COUNT	3544584
+SHUFFLE	COPY_MAP_DATA	480102000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11731488
+SHUFFLE	COMPRESS_BYTE_COUNT	3424697
+SHUFFLE	COPY_MAP_DATA	626238000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12655710
+SHUFFLE	COMPRESS_BYTE_COUNT	3660914
+SHUFFLE	COPY_MAP_DATA	615402000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13430502
+SHUFFLE	COMPRESS_BYTE_COUNT	3841633
+SHUFFLE	COPY_MAP_DATA	939781000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13053266
+SHUFFLE	COMPRESS_BYTE_COUNT	3757297
+SHUFFLE	COPY_MAP_DATA	518176000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12953662
+SHUFFLE	COMPRESS_BYTE_COUNT	3721059
+SHUFFLE	COPY_MAP_DATA	240056000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13045866
+SHUFFLE	COMPRESS_BYTE_COUNT	3759718
+SHUFFLE	COPY_MAP_DATA	237533000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12925768
+SHUFFLE	COMPRESS_BYTE_COUNT	3715475
+SHUFFLE	COPY_MAP_DATA	652220000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13739963
+SHUFFLE	COMPRESS_BYTE_COUNT	3899293
+SHUFFLE	COPY_MAP_DATA	205819000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13739756
+SHUFFLE	COMPRESS_BYTE_COUNT	3883094
+SHUFFLE	COPY_MAP_DATA	282357000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	241586375884
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	COMBINE	241232040884
+MERGE	WRITE	91503656306
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	35636537000
+SORT	READ_WRITE	35535274000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	95117088
+REDUCE	SETUP	370000
+REDUCE	SETUP_MEM	95117088
+REDUCE	CLEANUP	33000
+REDUCE	CLEANUP_MEM	120921296
+REDUCE	TOTAL_RUN	177157125556
+REDUCE	READ	21829298000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	109916278553
+REDUCE	WRITE	75583279000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	115400296
+REDUCE	VALUE_BYTE_COUNT	6899584
+REDUCE	REDUCE_MEM	120921296
+REDUCE	WRITE	8468000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	957780844087
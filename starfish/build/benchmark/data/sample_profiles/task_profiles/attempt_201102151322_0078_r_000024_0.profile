@@ -0,0 +1,149 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	8423060
+SHUFFLE	COMPRESS_BYTE_COUNT	2545773
+SHUFFLE	COPY_MAP_DATA	1539797000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	6938826
+SHUFFLE	COMPRESS_BYTE_COUNT	2154550
+SHUFFLE	COPY_MAP_DATA	208821000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9269052
+SHUFFLE	COMPRESS_BYTE_COUNT	2781646
+SHUFFLE	COPY_MAP_DATA	2181417000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9663110
+SHUFFLE	COMPRESS_BYTE_COUNT	2877217
+SHUFFLE	COPY_MAP_DATA	857544000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9836730
+SHUFFLE	COMPRESS_BYTE_COUNT	2960061
+SHUFFLE	COPY_MAP_DATA	171515000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10415106
+SHUFFLE	COMPRESS_BYTE_COUNT	3065132
+SHUFFLE	COPY_MAP_DATA	541552000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10235603
+SHUFFLE	COMPRESS_BYTE_COUNT	3051335
+SHUFFLE	COPY_MAP_DATA	1526040000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10632030
+SHUFFLE	COMPRESS_BYTE_COUNT	3130898
+SHUFFLE	COPY_MAP_DATA	769738000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10331390
+SHUFFLE	COMPRESS_BYTE_COUNT	3069785
+SHUFFLE	COPY_MAP_DATA	171056000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10780134
+SHUFFLE	COMPRESS_BYTE_COUNT	3152668
+SHUFFLE	COPY_MAP_DATA	1099917000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10340456
+SHUFFLE	COMPRESS_BYTE_COUNT	3082943
+SHUFFLE	COPY_MAP_DATA	341398000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10572876
+SHUFFLE	COMPRESS_BYTE_COUNT	3127453
+SHUFFLE	COPY_MAP_DATA	394940000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11982908
+SHUFFLE	COMPRESS_BYTE_COUNT	3451335
+SHUFFLE	COPY_MAP_DATA	2492111000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11786856
+SHUFFLE	COMPRESS_BYTE_COUNT	3428159
+SHUFFLE	COPY_MAP_DATA	504537000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10737068
+SHUFFLE	COMPRESS_BYTE_COUNT	3143179
+SHUFFLE	COPY_MAP_DATA	236933000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10501152
+SHUFFLE	COMPRESS_BYTE_COUNT	3087428
+SHUFFLE	COPY_MAP_DATA	381153000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12107310
+SHUFFLE	COMPRESS_BYTE_COUNT	3460991
+SHUFFLE	COPY_MAP_DATA	337952000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12559546
+SHUFFLE	COMPRESS_BYTE_COUNT	3646281
+SHUFFLE	COPY_MAP_DATA	217784000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11239211
+SHUFFLE	COMPRESS_BYTE_COUNT	3289957
+SHUFFLE	COPY_MAP_DATA	241388000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12799836
+SHUFFLE	COMPRESS_BYTE_COUNT	3683258
+SHUFFLE	COPY_MAP_DATA	201466000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12314832
+SHUFFLE	COMPRESS_BYTE_COUNT	3563732
+SHUFFLE	COPY_MAP_DATA	2084054000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11723256
+SHUFFLE	COMPRESS_BYTE_COUNT	3419040
+SHUFFLE	COPY_MAP_DATA	399980000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12651000
+SHUFFLE	COMPRESS_BYTE_COUNT	3664174
+SHUFFLE	COPY_MAP_DATA	885862000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13372902
+SHUFFLE	COMPRESS_BYTE_COUNT	3825318
+SHUFFLE	COPY_MAP_DATA	196278000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13117138
+SHUFFLE	COMPRESS_BYTE_COUNT	3769079
+SHUFFLE	COPY_MAP_DATA	203596000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12957182
+SHUFFLE	COMPRESS_BYTE_COUNT	3722426
+SHUFFLE	COPY_MAP_DATA	221006000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13079744
+SHUFFLE	COMPRESS_BYTE_COUNT	3770705
+SHUFFLE	COPY_MAP_DATA	1336095000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12952578
+SHUFFLE	COMPRESS_BYTE_COUNT	3719971
+SHUFFLE	COPY_MAP_DATA	808804000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13791505
+SHUFFLE	COMPRESS_BYTE_COUNT	3917624
+SHUFFLE	COPY_MAP_DATA	241234000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13710610
+SHUFFLE	COMPRESS_BYTE_COUNT	3878504
+SHUFFLE	COPY_MAP_DATA	214295000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	197096415413
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	COMBINE	196726575413
+MERGE	WRITE	77266594413
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	30275692000
+SORT	READ_WRITE	30174214000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	143901632
+REDUCE	SETUP	335000
+REDUCE	SETUP_MEM	143901632
+REDUCE	CLEANUP	32000
+REDUCE	CLEANUP_MEM	89935312
+REDUCE	TOTAL_RUN	160808005000
+REDUCE	READ	23626484000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	103134616000
+REDUCE	WRITE	72614779000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	115494460
+REDUCE	VALUE_BYTE_COUNT	6904636
+REDUCE	REDUCE_MEM	89935312
+REDUCE	WRITE	64203000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	925341756413
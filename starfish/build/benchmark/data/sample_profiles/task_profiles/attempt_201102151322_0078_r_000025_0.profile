@@ -0,0 +1,149 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	8379860
+SHUFFLE	COMPRESS_BYTE_COUNT	2538905
+SHUFFLE	COPY_MAP_DATA	894158000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	6928048
+SHUFFLE	COMPRESS_BYTE_COUNT	2156444
+SHUFFLE	COPY_MAP_DATA	650683000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9259220
+SHUFFLE	COMPRESS_BYTE_COUNT	2786123
+SHUFFLE	COPY_MAP_DATA	1063199907
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9634960
+SHUFFLE	COMPRESS_BYTE_COUNT	2871461
+SHUFFLE	COPY_MAP_DATA	392869000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9811868
+SHUFFLE	COMPRESS_BYTE_COUNT	2967326
+SHUFFLE	COPY_MAP_DATA	188583000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10371660
+SHUFFLE	COMPRESS_BYTE_COUNT	3060593
+SHUFFLE	COPY_MAP_DATA	405902000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10167748
+SHUFFLE	COMPRESS_BYTE_COUNT	3042582
+SHUFFLE	COPY_MAP_DATA	467068000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10593834
+SHUFFLE	COMPRESS_BYTE_COUNT	3138583
+SHUFFLE	COPY_MAP_DATA	348193000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10747810
+SHUFFLE	COMPRESS_BYTE_COUNT	3158614
+SHUFFLE	COPY_MAP_DATA	179686000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10275208
+SHUFFLE	COMPRESS_BYTE_COUNT	3051978
+SHUFFLE	COPY_MAP_DATA	476716000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10337446
+SHUFFLE	COMPRESS_BYTE_COUNT	3092032
+SHUFFLE	COPY_MAP_DATA	233878000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11984084
+SHUFFLE	COMPRESS_BYTE_COUNT	3463714
+SHUFFLE	COPY_MAP_DATA	243311000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10549398
+SHUFFLE	COMPRESS_BYTE_COUNT	3123863
+SHUFFLE	COPY_MAP_DATA	230141000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11711632
+SHUFFLE	COMPRESS_BYTE_COUNT	3411990
+SHUFFLE	COPY_MAP_DATA	244560000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10663859
+SHUFFLE	COMPRESS_BYTE_COUNT	3132631
+SHUFFLE	COPY_MAP_DATA	157251000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10464966
+SHUFFLE	COMPRESS_BYTE_COUNT	3084735
+SHUFFLE	COPY_MAP_DATA	184778000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12033070
+SHUFFLE	COMPRESS_BYTE_COUNT	3455995
+SHUFFLE	COPY_MAP_DATA	204776000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12460545
+SHUFFLE	COMPRESS_BYTE_COUNT	3624876
+SHUFFLE	COPY_MAP_DATA	216862000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11206178
+SHUFFLE	COMPRESS_BYTE_COUNT	3291473
+SHUFFLE	COPY_MAP_DATA	227173000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12741210
+SHUFFLE	COMPRESS_BYTE_COUNT	3684163
+SHUFFLE	COPY_MAP_DATA	394141000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12218076
+SHUFFLE	COMPRESS_BYTE_COUNT	3546145
+SHUFFLE	COPY_MAP_DATA	2074049000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12610738
+SHUFFLE	COMPRESS_BYTE_COUNT	3662534
+SHUFFLE	COPY_MAP_DATA	181332000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11725358
+SHUFFLE	COMPRESS_BYTE_COUNT	3424633
+SHUFFLE	COPY_MAP_DATA	738507000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13359733
+SHUFFLE	COMPRESS_BYTE_COUNT	3829630
+SHUFFLE	COPY_MAP_DATA	191577000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13021719
+SHUFFLE	COMPRESS_BYTE_COUNT	3755541
+SHUFFLE	COPY_MAP_DATA	232701000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12935594
+SHUFFLE	COMPRESS_BYTE_COUNT	3727248
+SHUFFLE	COPY_MAP_DATA	202001000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12995380
+SHUFFLE	COMPRESS_BYTE_COUNT	3764081
+SHUFFLE	COPY_MAP_DATA	309212000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12916824
+SHUFFLE	COMPRESS_BYTE_COUNT	3721608
+SHUFFLE	COPY_MAP_DATA	254254000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13673088
+SHUFFLE	COMPRESS_BYTE_COUNT	3894475
+SHUFFLE	COPY_MAP_DATA	190154000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13641862
+SHUFFLE	COMPRESS_BYTE_COUNT	3874654
+SHUFFLE	COPY_MAP_DATA	380941000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	159545154563
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	COMBINE	159351443563
+MERGE	WRITE	65508970807
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	35994660755
+SORT	READ_WRITE	35901091755
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	117489912
+REDUCE	SETUP	4713000
+REDUCE	SETUP_MEM	118286848
+REDUCE	CLEANUP	33000
+REDUCE	CLEANUP_MEM	98579120
+REDUCE	TOTAL_RUN	181614890268
+REDUCE	READ	22392050000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	114029238604
+REDUCE	WRITE	76864352000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	115439352
+REDUCE	VALUE_BYTE_COUNT	6904177
+REDUCE	REDUCE_MEM	98581168
+REDUCE	WRITE	10106000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	963794836236
@@ -0,0 +1,149 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	6910386
+SHUFFLE	COMPRESS_BYTE_COUNT	2153876
+SHUFFLE	COPY_MAP_DATA	250946000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	8339976
+SHUFFLE	COMPRESS_BYTE_COUNT	2534405
+SHUFFLE	COPY_MAP_DATA	179330000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9204798
+SHUFFLE	COMPRESS_BYTE_COUNT	2771404
+SHUFFLE	COPY_MAP_DATA	3587585000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9594587
+SHUFFLE	COMPRESS_BYTE_COUNT	2871824
+SHUFFLE	COPY_MAP_DATA	410523000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	9751870
+SHUFFLE	COMPRESS_BYTE_COUNT	2951349
+SHUFFLE	COPY_MAP_DATA	318239000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10308112
+SHUFFLE	COMPRESS_BYTE_COUNT	3048193
+SHUFFLE	COPY_MAP_DATA	1938613000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10167666
+SHUFFLE	COMPRESS_BYTE_COUNT	3048641
+SHUFFLE	COPY_MAP_DATA	1813348000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10560490
+SHUFFLE	COMPRESS_BYTE_COUNT	3137254
+SHUFFLE	COPY_MAP_DATA	738657000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10751976
+SHUFFLE	COMPRESS_BYTE_COUNT	3159198
+SHUFFLE	COPY_MAP_DATA	425841000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10212470
+SHUFFLE	COMPRESS_BYTE_COUNT	3042771
+SHUFFLE	COPY_MAP_DATA	584606000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10325066
+SHUFFLE	COMPRESS_BYTE_COUNT	3087895
+SHUFFLE	COPY_MAP_DATA	212056000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11953656
+SHUFFLE	COMPRESS_BYTE_COUNT	3457699
+SHUFFLE	COPY_MAP_DATA	832084000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10511274
+SHUFFLE	COMPRESS_BYTE_COUNT	3124701
+SHUFFLE	COPY_MAP_DATA	282534000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11672653
+SHUFFLE	COMPRESS_BYTE_COUNT	3404681
+SHUFFLE	COPY_MAP_DATA	296379000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10647584
+SHUFFLE	COMPRESS_BYTE_COUNT	3130172
+SHUFFLE	COPY_MAP_DATA	383079000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	10432102
+SHUFFLE	COMPRESS_BYTE_COUNT	3079171
+SHUFFLE	COPY_MAP_DATA	1063555000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12009330
+SHUFFLE	COMPRESS_BYTE_COUNT	3447792
+SHUFFLE	COPY_MAP_DATA	261838000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12440822
+SHUFFLE	COMPRESS_BYTE_COUNT	3626792
+SHUFFLE	COPY_MAP_DATA	593166000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11148392
+SHUFFLE	COMPRESS_BYTE_COUNT	3272807
+SHUFFLE	COPY_MAP_DATA	795170000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12710134
+SHUFFLE	COMPRESS_BYTE_COUNT	3682603
+SHUFFLE	COPY_MAP_DATA	246818000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12164082
+SHUFFLE	COMPRESS_BYTE_COUNT	3539340
+SHUFFLE	COPY_MAP_DATA	24159109000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12567368
+SHUFFLE	COMPRESS_BYTE_COUNT	3656942
+SHUFFLE	COPY_MAP_DATA	262475000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	11708742
+SHUFFLE	COMPRESS_BYTE_COUNT	3435363
+SHUFFLE	COPY_MAP_DATA	325128000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13342454
+SHUFFLE	COMPRESS_BYTE_COUNT	3838999
+SHUFFLE	COPY_MAP_DATA	487185000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12976064
+SHUFFLE	COMPRESS_BYTE_COUNT	3752380
+SHUFFLE	COPY_MAP_DATA	451415000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12862199
+SHUFFLE	COMPRESS_BYTE_COUNT	3713341
+SHUFFLE	COPY_MAP_DATA	295558000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13025385
+SHUFFLE	COMPRESS_BYTE_COUNT	3783655
+SHUFFLE	COPY_MAP_DATA	200783000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	12827868
+SHUFFLE	COMPRESS_BYTE_COUNT	3700276
+SHUFFLE	COPY_MAP_DATA	276599000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13630940
+SHUFFLE	COMPRESS_BYTE_COUNT	3888756
+SHUFFLE	COPY_MAP_DATA	240784000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	13586471
+SHUFFLE	COMPRESS_BYTE_COUNT	3862471
+SHUFFLE	COPY_MAP_DATA	268916000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	290051093713
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	COMBINE	289432951713
+MERGE	WRITE	104456041143
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	23831363000
+SORT	READ_WRITE	23696500000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	90501728
+REDUCE	SETUP	10041000
+REDUCE	SETUP_MEM	90501728
+REDUCE	CLEANUP	51000
+REDUCE	CLEANUP_MEM	127493016
+REDUCE	TOTAL_RUN	182639877428
+REDUCE	READ	22797327000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	112003601428
+REDUCE	WRITE	77120183428
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	115415804
+REDUCE	VALUE_BYTE_COUNT	6899704
+REDUCE	REDUCE_MEM	127493016
+REDUCE	WRITE	101565000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	951946241282
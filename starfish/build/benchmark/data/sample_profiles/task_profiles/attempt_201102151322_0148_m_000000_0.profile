@@ -0,0 +1,67 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt2/part-00025	0
+MAP	STARTUP_MEM	212768160
+MAP	SETUP	494000
+MAP	SETUP_MEM	212768160
+SPILL	SORT_AND_SPILL	34627775000
+SPILL	QUICK_SORT	23464803000
+SPILL	SORT_COUNT	5242880
+SPILL	COMBINE	10709493000
+SPILL	WRITE	4258848000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7429364
+SPILL	COMPRESS_BYTE_COUNT	3219473
+SPILL	SORT_AND_SPILL	31593749000
+SPILL	QUICK_SORT	17456892000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	13673822000
+SPILL	WRITE	5962730000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7356847
+SPILL	COMPRESS_BYTE_COUNT	3186204
+SPILL	SORT_AND_SPILL	32685471000
+SPILL	QUICK_SORT	18066750000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	13416956000
+SPILL	WRITE	5464069000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7614266
+SPILL	COMPRESS_BYTE_COUNT	3288402
+SPILL	SORT_AND_SPILL	31727048000
+SPILL	QUICK_SORT	20060640000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	10663170000
+SPILL	WRITE	3981123000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7464801
+SPILL	COMPRESS_BYTE_COUNT	3208287
+MAP	CLEANUP	113000
+MAP	CLEANUP_MEM	215463008
+MAP	TOTAL_RUN	294767549000
+MAP	READ	5519017000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	458911
+MAP	VALUE_BYTE_COUNT	145144115
+MAP	MAP	288986470000
+MAP	WRITE	180136232000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	27573324000
+MAP	SERIALIZE_OUTPUT	88116272000
+MAP	MAP_MEM	215463008
+SPILL	SORT_AND_SPILL	8266432000
+SPILL	QUICK_SORT	2911375000
+SPILL	SORT_COUNT	1988105
+SPILL	COMBINE	5121441000
+SPILL	WRITE	2105927000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	3566004
+SPILL	COMPRESS_BYTE_COUNT	1570473
+MERGE	TOTAL_MERGE	19676212000
+MERGE	READ_WRITE	19583009000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	323694981000
@@ -0,0 +1,67 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt2/part-00027	0
+MAP	STARTUP_MEM	213615496
+MAP	SETUP	482000
+MAP	SETUP_MEM	213615496
+SPILL	SORT_AND_SPILL	31732687000
+SPILL	QUICK_SORT	11520720000
+SPILL	SORT_COUNT	5242880
+SPILL	COMBINE	18386133000
+SPILL	WRITE	3941767000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7273189
+SPILL	COMPRESS_BYTE_COUNT	3129901
+SPILL	SORT_AND_SPILL	31776208000
+SPILL	QUICK_SORT	15243248000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	16091125000
+SPILL	WRITE	8648780000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7354063
+SPILL	COMPRESS_BYTE_COUNT	3174138
+SPILL	SORT_AND_SPILL	30446981000
+SPILL	QUICK_SORT	14769580000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	15288691000
+SPILL	WRITE	7083730000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7192392
+SPILL	COMPRESS_BYTE_COUNT	3093003
+MAP	CLEANUP	104000
+MAP	CLEANUP_MEM	214294928
+MAP	TOTAL_RUN	269211435000
+MAP	READ	3168943000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	478066
+MAP	VALUE_BYTE_COUNT	143014171
+MAP	MAP	265820361000
+MAP	WRITE	150464040000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	27565503000
+MAP	SERIALIZE_OUTPUT	54056798000
+MAP	MAP_MEM	214294928
+SPILL	SORT_AND_SPILL	29100008000
+SPILL	QUICK_SORT	18662284000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	10005572000
+SPILL	WRITE	3922278000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7365338
+SPILL	COMPRESS_BYTE_COUNT	3168921
+SPILL	SORT_AND_SPILL	4513401000
+SPILL	QUICK_SORT	1354512000
+SPILL	SORT_COUNT	1212005
+SPILL	COMBINE	3081740000
+SPILL	WRITE	1378215000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	2531320
+SPILL	COMPRESS_BYTE_COUNT	1114486
+MERGE	TOTAL_MERGE	20360152000
+MERGE	READ_WRITE	20022758000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	309267279000
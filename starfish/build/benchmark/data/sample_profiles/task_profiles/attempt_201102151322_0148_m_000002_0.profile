@@ -0,0 +1,67 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt2/part-00028	0
+MAP	STARTUP_MEM	213615056
+MAP	SETUP	581000
+MAP	SETUP_MEM	213615056
+SPILL	SORT_AND_SPILL	32625328000
+SPILL	QUICK_SORT	20310911000
+SPILL	SORT_COUNT	5242880
+SPILL	COMBINE	11611714000
+SPILL	WRITE	5275241000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7310546
+SPILL	COMPRESS_BYTE_COUNT	3167410
+SPILL	SORT_AND_SPILL	35233426000
+SPILL	QUICK_SORT	15656929000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	17685148000
+SPILL	WRITE	8040706000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7406652
+SPILL	COMPRESS_BYTE_COUNT	3197250
+SPILL	SORT_AND_SPILL	31269505000
+SPILL	QUICK_SORT	15780859000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	15176980000
+SPILL	WRITE	6862776000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7622723
+SPILL	COMPRESS_BYTE_COUNT	3284265
+MAP	CLEANUP	106000
+MAP	CLEANUP_MEM	215520488
+MAP	TOTAL_RUN	262911812000
+MAP	READ	2982622000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	436501
+MAP	VALUE_BYTE_COUNT	135546168
+MAP	MAP	259723834000
+MAP	WRITE	158050378000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	26278952000
+MAP	SERIALIZE_OUTPUT	71906296000
+MAP	MAP_MEM	215520488
+SPILL	SORT_AND_SPILL	23096611000
+SPILL	QUICK_SORT	12785292000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	9939042000
+SPILL	WRITE	3881474000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7509132
+SPILL	COMPRESS_BYTE_COUNT	3249475
+SPILL	SORT_AND_SPILL	1702194000
+SPILL	QUICK_SORT	398841000
+SPILL	SORT_COUNT	456215
+SPILL	COMBINE	1262794000
+SPILL	WRITE	614872000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	1154100
+SPILL	COMPRESS_BYTE_COUNT	526072
+MERGE	TOTAL_MERGE	18354301000
+MERGE	READ_WRITE	18088926000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	297597110000
@@ -0,0 +1,67 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt2/part-00026	0
+MAP	STARTUP_MEM	213636448
+MAP	SETUP	538000
+MAP	SETUP_MEM	213636448
+SPILL	SORT_AND_SPILL	33504673000
+SPILL	QUICK_SORT	21026287000
+SPILL	SORT_COUNT	5242880
+SPILL	COMBINE	11431577000
+SPILL	WRITE	4260860000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7312636
+SPILL	COMPRESS_BYTE_COUNT	3164771
+SPILL	SORT_AND_SPILL	30258714000
+SPILL	QUICK_SORT	11677391000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	18194946000
+SPILL	WRITE	4873545000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7241092
+SPILL	COMPRESS_BYTE_COUNT	3123201
+SPILL	SORT_AND_SPILL	33236245000
+SPILL	QUICK_SORT	15575116000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	17243143000
+SPILL	WRITE	5647293000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7269002
+SPILL	COMPRESS_BYTE_COUNT	3148607
+MAP	CLEANUP	117000
+MAP	CLEANUP_MEM	215516008
+MAP	TOTAL_RUN	269740294000
+MAP	READ	3134233000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	426218
+MAP	VALUE_BYTE_COUNT	135407126
+MAP	MAP	266345357000
+MAP	WRITE	145279381000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	23654189000
+MAP	SERIALIZE_OUTPUT	58751695000
+MAP	MAP_MEM	215609776
+SPILL	SORT_AND_SPILL	26547984000
+SPILL	QUICK_SORT	11230478000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	14781877000
+SPILL	WRITE	6187307000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7131834
+SPILL	COMPRESS_BYTE_COUNT	3079254
+SPILL	SORT_AND_SPILL	1922797000
+SPILL	QUICK_SORT	459259000
+SPILL	SORT_COUNT	498654
+SPILL	COMBINE	1415395000
+SPILL	WRITE	684266000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	1234589
+SPILL	COMPRESS_BYTE_COUNT	563631
+MERGE	TOTAL_MERGE	18903056000
+MERGE	READ_WRITE	18784874000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	303287976000
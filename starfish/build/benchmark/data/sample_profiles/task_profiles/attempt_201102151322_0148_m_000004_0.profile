@@ -0,0 +1,67 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt2/part-00029	0
+MAP	STARTUP_MEM	212754536
+MAP	SETUP	495000
+MAP	SETUP_MEM	212754536
+SPILL	SORT_AND_SPILL	32044038000
+SPILL	QUICK_SORT	15819045000
+SPILL	SORT_COUNT	5242880
+SPILL	COMBINE	15747644000
+SPILL	WRITE	4038880000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7429201
+SPILL	COMPRESS_BYTE_COUNT	3207744
+SPILL	SORT_AND_SPILL	31167941000
+SPILL	QUICK_SORT	15411225000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	15363324000
+SPILL	WRITE	4127350000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7442284
+SPILL	COMPRESS_BYTE_COUNT	3215186
+SPILL	SORT_AND_SPILL	30867665000
+SPILL	QUICK_SORT	16212122000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	12932257000
+SPILL	WRITE	4072386000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7312822
+SPILL	COMPRESS_BYTE_COUNT	3160438
+MAP	CLEANUP	102000
+MAP	CLEANUP_MEM	215635472
+MAP	TOTAL_RUN	255696787000
+MAP	READ	3030302000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	437328
+MAP	VALUE_BYTE_COUNT	134459949
+MAP	MAP	252381267000
+MAP	WRITE	140303340000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	24763195000
+MAP	SERIALIZE_OUTPUT	60885788000
+MAP	MAP_MEM	215635472
+SPILL	SORT_AND_SPILL	21534494000
+SPILL	QUICK_SORT	11068990000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	10063035000
+SPILL	WRITE	3995431000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7440039
+SPILL	COMPRESS_BYTE_COUNT	3228110
+SPILL	SORT_AND_SPILL	1022868000
+SPILL	QUICK_SORT	196247000
+SPILL	SORT_COUNT	265058
+SPILL	COMBINE	801653000
+SPILL	WRITE	395260000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	747685
+SPILL	COMPRESS_BYTE_COUNT	347711
+MERGE	TOTAL_MERGE	17438670000
+MERGE	READ_WRITE	17180049000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	288427528000
@@ -0,0 +1,67 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt2/part-00000	0
+MAP	STARTUP_MEM	213648896
+MAP	SETUP	621000
+MAP	SETUP_MEM	213648896
+SPILL	SORT_AND_SPILL	30930410000
+SPILL	QUICK_SORT	12853327000
+SPILL	SORT_COUNT	5242880
+SPILL	COMBINE	17256441000
+SPILL	WRITE	6071012000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	6898299
+SPILL	COMPRESS_BYTE_COUNT	2959570
+SPILL	SORT_AND_SPILL	36189939000
+SPILL	QUICK_SORT	14991485000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	20477565000
+SPILL	WRITE	6985335000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	6730583
+SPILL	COMPRESS_BYTE_COUNT	2883325
+SPILL	SORT_AND_SPILL	35039895362
+SPILL	QUICK_SORT	14318797000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	20171263362
+SPILL	WRITE	7780409000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	6945725
+SPILL	COMPRESS_BYTE_COUNT	2984136
+MAP	CLEANUP	66000
+MAP	CLEANUP_MEM	212066320
+MAP	TOTAL_RUN	291968937599
+MAP	READ	2054290000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	64452
+MAP	VALUE_BYTE_COUNT	134228132
+MAP	MAP	289757013599
+MAP	WRITE	163906512875
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	33736546000
+MAP	SERIALIZE_OUTPUT	48291051000
+MAP	MAP_MEM	212066320
+SPILL	SORT_AND_SPILL	22808097514
+SPILL	QUICK_SORT	10625970514
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	11794108000
+SPILL	WRITE	4073225000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	6697733
+SPILL	COMPRESS_BYTE_COUNT	2875830
+SPILL	SORT_AND_SPILL	15705000
+SPILL	QUICK_SORT	352000
+SPILL	SORT_COUNT	1005
+SPILL	COMBINE	9600000
+SPILL	WRITE	3084000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7481
+SPILL	COMPRESS_BYTE_COUNT	5336
+MERGE	TOTAL_MERGE	16908146000
+MERGE	READ_WRITE	16631126000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	332181848113
@@ -0,0 +1,67 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt2/part-00001	0
+MAP	STARTUP_MEM	213663608
+MAP	SETUP	521000
+MAP	SETUP_MEM	213663608
+SPILL	SORT_AND_SPILL	33851387000
+SPILL	QUICK_SORT	14659436000
+SPILL	SORT_COUNT	5242880
+SPILL	COMBINE	18275824000
+SPILL	WRITE	6916791000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	6454545
+SPILL	COMPRESS_BYTE_COUNT	2763140
+SPILL	SORT_AND_SPILL	36548192000
+SPILL	QUICK_SORT	15301233000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	20079623000
+SPILL	WRITE	7861044000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	6760845
+SPILL	COMPRESS_BYTE_COUNT	2911871
+SPILL	SORT_AND_SPILL	35172851362
+SPILL	QUICK_SORT	13705073000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	20905891362
+SPILL	WRITE	7023701000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	6751949
+SPILL	COMPRESS_BYTE_COUNT	2895203
+MAP	CLEANUP	63000
+MAP	CLEANUP_MEM	211366128
+MAP	TOTAL_RUN	300083363113
+MAP	READ	2772445000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	94606
+MAP	VALUE_BYTE_COUNT	134210418
+MAP	MAP	297131415113
+MAP	WRITE	166175839724
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	33736824362
+MAP	SERIALIZE_OUTPUT	50125842362
+MAP	MAP_MEM	211366128
+SPILL	SORT_AND_SPILL	22819915000
+SPILL	QUICK_SORT	11029084000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	11430645000
+SPILL	WRITE	4422767000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	6937184
+SPILL	COMPRESS_BYTE_COUNT	2982231
+SPILL	SORT_AND_SPILL	294901000
+SPILL	QUICK_SORT	27454000
+SPILL	SORT_COUNT	49988
+SPILL	COMBINE	254097000
+SPILL	WRITE	123966000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	213250
+SPILL	COMPRESS_BYTE_COUNT	102640
+MERGE	TOTAL_MERGE	16525922000
+MERGE	READ_WRITE	16064092000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	337613709113
@@ -0,0 +1,67 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt2/part-00002	0
+MAP	STARTUP_MEM	212775464
+MAP	SETUP	501000
+MAP	SETUP_MEM	212775464
+SPILL	SORT_AND_SPILL	33305760000
+SPILL	QUICK_SORT	19551637000
+SPILL	SORT_COUNT	5242880
+SPILL	COMBINE	13240401000
+SPILL	WRITE	3795316000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7034957
+SPILL	COMPRESS_BYTE_COUNT	3008152
+SPILL	SORT_AND_SPILL	35672624000
+SPILL	QUICK_SORT	21786494000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	12943388000
+SPILL	WRITE	4544129000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	6357432
+SPILL	COMPRESS_BYTE_COUNT	2681276
+SPILL	SORT_AND_SPILL	34002744000
+SPILL	QUICK_SORT	18977530000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	14524882000
+SPILL	WRITE	4930908000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	6865739
+SPILL	COMPRESS_BYTE_COUNT	2897451
+MAP	CLEANUP	118000
+MAP	CLEANUP_MEM	211990528
+MAP	TOTAL_RUN	280826961000
+MAP	READ	2214819000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	175168
+MAP	VALUE_BYTE_COUNT	134196959
+MAP	MAP	278501314000
+MAP	WRITE	164521274000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	25090479000
+MAP	SERIALIZE_OUTPUT	80118348000
+MAP	MAP_MEM	211990528
+SPILL	SORT_AND_SPILL	22271788000
+SPILL	QUICK_SORT	13564655000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	8256803000
+SPILL	WRITE	2524551000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	4734360
+SPILL	COMPRESS_BYTE_COUNT	1898668
+SPILL	SORT_AND_SPILL	1149129000
+SPILL	QUICK_SORT	375694000
+SPILL	SORT_COUNT	422790
+SPILL	COMBINE	736179000
+SPILL	WRITE	299524000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	573382
+SPILL	COMPRESS_BYTE_COUNT	249484
+MERGE	TOTAL_MERGE	18741383000
+MERGE	READ_WRITE	18377724000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	313742361000
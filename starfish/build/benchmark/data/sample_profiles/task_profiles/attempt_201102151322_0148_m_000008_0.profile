@@ -0,0 +1,67 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt2/part-00003	0
+MAP	STARTUP_MEM	213625632
+MAP	SETUP	500000
+MAP	SETUP_MEM	213625632
+SPILL	SORT_AND_SPILL	30111578000
+SPILL	QUICK_SORT	15614972000
+SPILL	SORT_COUNT	5242880
+SPILL	COMBINE	13302530000
+SPILL	WRITE	5728092000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	5076083
+SPILL	COMPRESS_BYTE_COUNT	2076668
+SPILL	SORT_AND_SPILL	30359601000
+SPILL	QUICK_SORT	13662671000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	16317067000
+SPILL	WRITE	6028751000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	6849676
+SPILL	COMPRESS_BYTE_COUNT	2935730
+SPILL	SORT_AND_SPILL	31024266000
+SPILL	QUICK_SORT	14603711000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	16036155000
+SPILL	WRITE	6831817000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	6930030
+SPILL	COMPRESS_BYTE_COUNT	2968719
+MAP	CLEANUP	108000
+MAP	CLEANUP_MEM	214227584
+MAP	TOTAL_RUN	259467499000
+MAP	READ	2973838000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	153739
+MAP	VALUE_BYTE_COUNT	134204771
+MAP	MAP	256402660000
+MAP	WRITE	149072800000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	27318305000
+MAP	SERIALIZE_OUTPUT	57870989000
+MAP	MAP_MEM	214227584
+SPILL	SORT_AND_SPILL	23764443000
+SPILL	QUICK_SORT	13026194000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	10412487000
+SPILL	WRITE	3667688000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	6871847
+SPILL	COMPRESS_BYTE_COUNT	2952993
+SPILL	SORT_AND_SPILL	1709964000
+SPILL	QUICK_SORT	410660000
+SPILL	SORT_COUNT	471476
+SPILL	COMBINE	1256808000
+SPILL	WRITE	588490000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	1112541
+SPILL	COMPRESS_BYTE_COUNT	501584
+MERGE	TOTAL_MERGE	15524128000
+MERGE	READ_WRITE	15237408000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	289028002000
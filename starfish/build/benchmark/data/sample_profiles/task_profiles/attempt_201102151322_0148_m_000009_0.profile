@@ -0,0 +1,67 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt2/part-00004	0
+MAP	STARTUP_MEM	213657760
+MAP	SETUP	614000
+MAP	SETUP_MEM	213657760
+SPILL	SORT_AND_SPILL	33866793602
+SPILL	QUICK_SORT	14956555602
+SPILL	SORT_COUNT	5242880
+SPILL	COMBINE	18070953000
+SPILL	WRITE	7045674000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7288190
+SPILL	COMPRESS_BYTE_COUNT	3140477
+SPILL	SORT_AND_SPILL	37174390000
+SPILL	QUICK_SORT	14058245000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	21946853000
+SPILL	WRITE	7966326000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7283742
+SPILL	COMPRESS_BYTE_COUNT	3128559
+SPILL	SORT_AND_SPILL	36464994602
+SPILL	QUICK_SORT	15986733000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	19953114602
+SPILL	WRITE	8164149000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7147074
+SPILL	COMPRESS_BYTE_COUNT	3087498
+MAP	CLEANUP	110000
+MAP	CLEANUP_MEM	211375992
+MAP	TOTAL_RUN	310711076008
+MAP	READ	2998979000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	135091
+MAP	VALUE_BYTE_COUNT	134202856
+MAP	MAP	307596424008
+MAP	WRITE	170723243204
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	32652119000
+MAP	SERIALIZE_OUTPUT	50907232602
+MAP	MAP_MEM	211375992
+SPILL	SORT_AND_SPILL	25684309601
+SPILL	QUICK_SORT	13605347601
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	11538245000
+SPILL	WRITE	4019200000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7283749
+SPILL	COMPRESS_BYTE_COUNT	3138987
+SPILL	SORT_AND_SPILL	641668000
+SPILL	QUICK_SORT	82248000
+SPILL	SORT_COUNT	129695
+SPILL	COMBINE	543351000
+SPILL	WRITE	279195000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	437756
+SPILL	COMPRESS_BYTE_COUNT	205972
+MERGE	TOTAL_MERGE	17740255000
+MERGE	READ_WRITE	17461071000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	350618729609
@@ -0,0 +1,67 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt2/part-00005	0
+MAP	STARTUP_MEM	212776976
+MAP	SETUP	503000
+MAP	SETUP_MEM	212776976
+SPILL	SORT_AND_SPILL	40084558000
+SPILL	QUICK_SORT	26409091000
+SPILL	SORT_COUNT	5242880
+SPILL	COMBINE	11537485000
+SPILL	WRITE	4391344000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7238258
+SPILL	COMPRESS_BYTE_COUNT	3123212
+SPILL	SORT_AND_SPILL	33573903000
+SPILL	QUICK_SORT	18372510000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	14371700000
+SPILL	WRITE	4434611000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7341486
+SPILL	COMPRESS_BYTE_COUNT	3151309
+SPILL	SORT_AND_SPILL	33964713000
+SPILL	QUICK_SORT	19934055000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	12358681000
+SPILL	WRITE	4922259000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7404624
+SPILL	COMPRESS_BYTE_COUNT	3198801
+MAP	CLEANUP	101000
+MAP	CLEANUP_MEM	212932120
+MAP	TOTAL_RUN	285378236000
+MAP	READ	4051854000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	157404
+MAP	VALUE_BYTE_COUNT	134218208
+MAP	MAP	281218140000
+MAP	WRITE	167479418000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	23431238000
+MAP	SERIALIZE_OUTPUT	71186877000
+MAP	MAP_MEM	213018920
+SPILL	SORT_AND_SPILL	24670426000
+SPILL	QUICK_SORT	12142788000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	12056399000
+SPILL	WRITE	4063692000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7239480
+SPILL	COMPRESS_BYTE_COUNT	3140836
+SPILL	SORT_AND_SPILL	580740000
+SPILL	QUICK_SORT	83829000
+SPILL	SORT_COUNT	139818
+SPILL	COMBINE	474506000
+SPILL	WRITE	229216000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	463636
+SPILL	COMPRESS_BYTE_COUNT	216119
+MERGE	TOTAL_MERGE	18166594000
+MERGE	READ_WRITE	17733163000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	322718194000
@@ -0,0 +1,67 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt2/part-00006	0
+MAP	STARTUP_MEM	212776952
+MAP	SETUP	591000
+MAP	SETUP_MEM	212776952
+SPILL	SORT_AND_SPILL	35946369946
+SPILL	QUICK_SORT	16220072000
+SPILL	SORT_COUNT	5242880
+SPILL	COMBINE	18905059946
+SPILL	WRITE	6897332000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7031881
+SPILL	COMPRESS_BYTE_COUNT	3035343
+SPILL	SORT_AND_SPILL	35418111793
+SPILL	QUICK_SORT	14167846793
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	19630932000
+SPILL	WRITE	7587569000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	6928162
+SPILL	COMPRESS_BYTE_COUNT	2973692
+SPILL	SORT_AND_SPILL	33092367000
+SPILL	QUICK_SORT	14455245000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	17687669000
+SPILL	WRITE	6519375000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	6986842
+SPILL	COMPRESS_BYTE_COUNT	3004256
+MAP	CLEANUP	115000
+MAP	CLEANUP_MEM	213969496
+MAP	TOTAL_RUN	298951113881
+MAP	READ	2450375000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	178725
+MAP	VALUE_BYTE_COUNT	134196045
+MAP	MAP	296016992881
+MAP	WRITE	170001195783
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	34303075946
+MAP	SERIALIZE_OUTPUT	51159897739
+MAP	MAP_MEM	213969496
+SPILL	SORT_AND_SPILL	24650686000
+SPILL	QUICK_SORT	11433415000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	11490621000
+SPILL	WRITE	4050750000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7140744
+SPILL	COMPRESS_BYTE_COUNT	3078985
+SPILL	SORT_AND_SPILL	965557000
+SPILL	QUICK_SORT	132629000
+SPILL	SORT_COUNT	209856
+SPILL	COMBINE	810828000
+SPILL	WRITE	347074000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	670733
+SPILL	COMPRESS_BYTE_COUNT	311449
+MERGE	TOTAL_MERGE	17743939632
+MERGE	READ_WRITE	17175604632
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	337135212513
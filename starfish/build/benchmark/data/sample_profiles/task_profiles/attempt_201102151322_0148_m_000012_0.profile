@@ -0,0 +1,67 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt2/part-00007	0
+MAP	STARTUP_MEM	212765528
+MAP	SETUP	473000
+MAP	SETUP_MEM	212765528
+SPILL	SORT_AND_SPILL	32417473000
+SPILL	QUICK_SORT	17231557000
+SPILL	SORT_COUNT	5242880
+SPILL	COMBINE	14749984000
+SPILL	WRITE	5761318000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7252753
+SPILL	COMPRESS_BYTE_COUNT	3126251
+SPILL	SORT_AND_SPILL	30520483000
+SPILL	QUICK_SORT	15566745000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	14575299000
+SPILL	WRITE	5496732000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7095072
+SPILL	COMPRESS_BYTE_COUNT	3060844
+SPILL	SORT_AND_SPILL	31472212000
+SPILL	QUICK_SORT	15478849000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	14141204000
+SPILL	WRITE	3823329000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7189605
+SPILL	COMPRESS_BYTE_COUNT	3104861
+MAP	CLEANUP	104000
+MAP	CLEANUP_MEM	214936480
+MAP	TOTAL_RUN	254273148000
+MAP	READ	1856006000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	202722
+MAP	VALUE_BYTE_COUNT	134198166
+MAP	MAP	252306260000
+MAP	WRITE	152620723000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	23001985000
+MAP	SERIALIZE_OUTPUT	71433599000
+MAP	MAP_MEM	214936480
+SPILL	SORT_AND_SPILL	20921212000
+SPILL	QUICK_SORT	9931880000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	9972736000
+SPILL	WRITE	3945301000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7444336
+SPILL	COMPRESS_BYTE_COUNT	3215311
+SPILL	SORT_AND_SPILL	735043000
+SPILL	QUICK_SORT	122902000
+SPILL	SORT_COUNT	186608
+SPILL	COMBINE	592579000
+SPILL	WRITE	298376000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	571555
+SPILL	COMPRESS_BYTE_COUNT	265341
+MERGE	TOTAL_MERGE	17162341000
+MERGE	READ_WRITE	16875194000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	287588056000
@@ -0,0 +1,67 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt2/part-00008	0
+MAP	STARTUP_MEM	212771592
+MAP	SETUP	517000
+MAP	SETUP_MEM	212771592
+SPILL	SORT_AND_SPILL	32793282946
+SPILL	QUICK_SORT	13518304000
+SPILL	SORT_COUNT	5242880
+SPILL	COMBINE	18024129946
+SPILL	WRITE	7175239946
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7237068
+SPILL	COMPRESS_BYTE_COUNT	3118435
+SPILL	SORT_AND_SPILL	35387380793
+SPILL	QUICK_SORT	14408580793
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	19884095000
+SPILL	WRITE	6874855000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7014272
+SPILL	COMPRESS_BYTE_COUNT	3027890
+SPILL	SORT_AND_SPILL	35283865000
+SPILL	QUICK_SORT	14512326000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	20295234000
+SPILL	WRITE	8525069000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7255413
+SPILL	COMPRESS_BYTE_COUNT	3104874
+MAP	CLEANUP	114000
+MAP	CLEANUP_MEM	215248656
+MAP	TOTAL_RUN	297118424881
+MAP	READ	2606024000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	216930
+MAP	VALUE_BYTE_COUNT	134203631
+MAP	MAP	294168856881
+MAP	WRITE	173438910990
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	35591546000
+MAP	SERIALIZE_OUTPUT	53172288892
+MAP	MAP_MEM	215408080
+SPILL	SORT_AND_SPILL	28400086000
+SPILL	QUICK_SORT	12420738000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	15375552000
+SPILL	WRITE	5058946000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7138797
+SPILL	COMPRESS_BYTE_COUNT	3077489
+SPILL	SORT_AND_SPILL	978023000
+SPILL	QUICK_SORT	197110000
+SPILL	SORT_COUNT	224076
+SPILL	COMBINE	758242000
+SPILL	WRITE	339733000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	651250
+SPILL	COMPRESS_BYTE_COUNT	302380
+MERGE	TOTAL_MERGE	17449604632
+MERGE	READ_WRITE	17121136632
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	335987421513
@@ -0,0 +1,67 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt2/part-00009	0
+MAP	STARTUP_MEM	213645960
+MAP	SETUP	521000
+MAP	SETUP_MEM	213645960
+SPILL	SORT_AND_SPILL	32043011677
+SPILL	QUICK_SORT	12410851677
+SPILL	SORT_COUNT	5242880
+SPILL	COMBINE	18992961000
+SPILL	WRITE	8100654000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7386791
+SPILL	COMPRESS_BYTE_COUNT	3189371
+SPILL	SORT_AND_SPILL	36688233000
+SPILL	QUICK_SORT	13908118000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	21991655000
+SPILL	WRITE	6072979000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7330086
+SPILL	COMPRESS_BYTE_COUNT	3171228
+SPILL	SORT_AND_SPILL	31678741518
+SPILL	QUICK_SORT	11531117000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	18855590518
+SPILL	WRITE	7189926000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7261096
+SPILL	COMPRESS_BYTE_COUNT	3141455
+MAP	CLEANUP	103000
+MAP	CLEANUP_MEM	214834984
+MAP	TOTAL_RUN	298443929061
+MAP	READ	2144058000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	231256
+MAP	VALUE_BYTE_COUNT	134192700
+MAP	MAP	296150786061
+MAP	WRITE	170470075543
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	33907867402
+MAP	SERIALIZE_OUTPUT	56571551074
+MAP	MAP_MEM	214834984
+SPILL	SORT_AND_SPILL	24056698074
+SPILL	QUICK_SORT	10671161074
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	12868887000
+SPILL	WRITE	4763484000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7234484
+SPILL	COMPRESS_BYTE_COUNT	3125151
+SPILL	SORT_AND_SPILL	1126870000
+SPILL	QUICK_SORT	171804000
+SPILL	SORT_COUNT	257706
+SPILL	COMBINE	929985000
+SPILL	WRITE	449741000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	747549
+SPILL	COMPRESS_BYTE_COUNT	343877
+MERGE	TOTAL_MERGE	19696491000
+MERGE	READ_WRITE	19435906000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	334317526061
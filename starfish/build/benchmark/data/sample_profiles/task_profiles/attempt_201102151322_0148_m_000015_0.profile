@@ -0,0 +1,67 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt2/part-00010	0
+MAP	STARTUP_MEM	213617352
+MAP	SETUP	529000
+MAP	SETUP_MEM	213617352
+SPILL	SORT_AND_SPILL	31532852000
+SPILL	QUICK_SORT	17766959000
+SPILL	SORT_COUNT	5242880
+SPILL	COMBINE	12693331000
+SPILL	WRITE	4017445000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7237471
+SPILL	COMPRESS_BYTE_COUNT	3133057
+SPILL	SORT_AND_SPILL	31877856000
+SPILL	QUICK_SORT	13381623000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	17923371000
+SPILL	WRITE	5499320000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7247298
+SPILL	COMPRESS_BYTE_COUNT	3124259
+SPILL	SORT_AND_SPILL	34149348000
+SPILL	QUICK_SORT	16157420000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	16651802000
+SPILL	WRITE	7438137000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7198595
+SPILL	COMPRESS_BYTE_COUNT	3116290
+MAP	CLEANUP	106000
+MAP	CLEANUP_MEM	214410040
+MAP	TOTAL_RUN	269759455000
+MAP	READ	3935894000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	250828
+MAP	VALUE_BYTE_COUNT	134192396
+MAP	MAP	265677639000
+MAP	WRITE	157172351000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	24242307000
+MAP	SERIALIZE_OUTPUT	73639652000
+MAP	MAP_MEM	214410040
+SPILL	SORT_AND_SPILL	21277628000
+SPILL	QUICK_SORT	11017686000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	9825098000
+SPILL	WRITE	3812048000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	6891081
+SPILL	COMPRESS_BYTE_COUNT	2966510
+SPILL	SORT_AND_SPILL	1078212000
+SPILL	QUICK_SORT	196179000
+SPILL	SORT_COUNT	282067
+SPILL	COMBINE	855656000
+SPILL	WRITE	408292000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	779940
+SPILL	COMPRESS_BYTE_COUNT	357563
+MERGE	TOTAL_MERGE	18350541000
+MERGE	READ_WRITE	18067931000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	300960626000
@@ -0,0 +1,67 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt2/part-00011	0
+MAP	STARTUP_MEM	213635472
+MAP	SETUP	545000
+MAP	SETUP_MEM	213635472
+SPILL	SORT_AND_SPILL	30847155000
+SPILL	QUICK_SORT	12644285000
+SPILL	SORT_COUNT	5242880
+SPILL	COMBINE	17549241000
+SPILL	WRITE	6422877000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	6800756
+SPILL	COMPRESS_BYTE_COUNT	2944566
+SPILL	SORT_AND_SPILL	39790947773
+SPILL	QUICK_SORT	19466279773
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	19413855000
+SPILL	WRITE	6912024000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7145908
+SPILL	COMPRESS_BYTE_COUNT	3092073
+SPILL	SORT_AND_SPILL	31870930000
+SPILL	QUICK_SORT	13971608000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	17370085000
+SPILL	WRITE	5638588000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7288901
+SPILL	COMPRESS_BYTE_COUNT	3146386
+MAP	CLEANUP	101000
+MAP	CLEANUP_MEM	212250488
+MAP	TOTAL_RUN	300108724625
+MAP	READ	2472148000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	264238
+MAP	VALUE_BYTE_COUNT	134190663
+MAP	MAP	297322809625
+MAP	WRITE	176221997773
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	32409093000
+MAP	SERIALIZE_OUTPUT	64243369773
+MAP	MAP_MEM	212250488
+SPILL	SORT_AND_SPILL	25373728000
+SPILL	QUICK_SORT	12658211000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	12345807000
+SPILL	WRITE	4582973000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7113140
+SPILL	COMPRESS_BYTE_COUNT	3061374
+SPILL	SORT_AND_SPILL	1232935000
+SPILL	QUICK_SORT	184498000
+SPILL	SORT_COUNT	277194
+SPILL	COMBINE	1021990000
+SPILL	WRITE	416189000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	801813
+SPILL	COMPRESS_BYTE_COUNT	367196
+MERGE	TOTAL_MERGE	17452030773
+MERGE	READ_WRITE	17304722773
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	330892139398
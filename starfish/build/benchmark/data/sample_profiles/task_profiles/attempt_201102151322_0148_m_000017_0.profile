@@ -0,0 +1,67 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt2/part-00012	0
+MAP	STARTUP_MEM	213614256
+MAP	SETUP	512000
+MAP	SETUP_MEM	213614256
+SPILL	SORT_AND_SPILL	31686381000
+SPILL	QUICK_SORT	15400992000
+SPILL	SORT_COUNT	5242880
+SPILL	COMBINE	15923675000
+SPILL	WRITE	8975132000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7458378
+SPILL	COMPRESS_BYTE_COUNT	3219353
+SPILL	SORT_AND_SPILL	30328191000
+SPILL	QUICK_SORT	12311526000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	17575016000
+SPILL	WRITE	6880133000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7299615
+SPILL	COMPRESS_BYTE_COUNT	3150746
+SPILL	SORT_AND_SPILL	32004409000
+SPILL	QUICK_SORT	16159170000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	15448348000
+SPILL	WRITE	5588837000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7338480
+SPILL	COMPRESS_BYTE_COUNT	3175209
+MAP	CLEANUP	107000
+MAP	CLEANUP_MEM	214123928
+MAP	TOTAL_RUN	258963501000
+MAP	READ	2996123000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	271165
+MAP	VALUE_BYTE_COUNT	134231241
+MAP	MAP	255783615000
+MAP	WRITE	148271578000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	28077683000
+MAP	SERIALIZE_OUTPUT	58374854000
+MAP	MAP_MEM	214283352
+SPILL	SORT_AND_SPILL	21036478000
+SPILL	QUICK_SORT	10703879000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	9937130000
+SPILL	WRITE	3837173000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7288240
+SPILL	COMPRESS_BYTE_COUNT	3142179
+SPILL	SORT_AND_SPILL	1030819000
+SPILL	QUICK_SORT	174885000
+SPILL	SORT_COUNT	242071
+SPILL	COMBINE	822381000
+SPILL	WRITE	401861000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	802105
+SPILL	COMPRESS_BYTE_COUNT	370688
+MERGE	TOTAL_MERGE	17339217000
+MERGE	READ_WRITE	17243839000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	288363041000
@@ -0,0 +1,67 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt2/part-00013	0
+MAP	STARTUP_MEM	213603392
+MAP	SETUP	484000
+MAP	SETUP_MEM	213603392
+SPILL	SORT_AND_SPILL	32036066000
+SPILL	QUICK_SORT	14577684000
+SPILL	SORT_COUNT	5242880
+SPILL	COMBINE	17019531000
+SPILL	WRITE	5921570000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7302693
+SPILL	COMPRESS_BYTE_COUNT	3145356
+SPILL	SORT_AND_SPILL	26279781000
+SPILL	QUICK_SORT	11605130000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	14245588000
+SPILL	WRITE	6256948000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7372061
+SPILL	COMPRESS_BYTE_COUNT	3185053
+SPILL	SORT_AND_SPILL	32044971000
+SPILL	QUICK_SORT	13901923000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	17781895000
+SPILL	WRITE	5113978000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7349283
+SPILL	COMPRESS_BYTE_COUNT	3131144
+MAP	CLEANUP	110000
+MAP	CLEANUP_MEM	212446536
+MAP	TOTAL_RUN	255195218000
+MAP	READ	6187383000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	278037
+MAP	VALUE_BYTE_COUNT	134189857
+MAP	MAP	248839127000
+MAP	WRITE	144556883000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	24674868000
+MAP	SERIALIZE_OUTPUT	52471578000
+MAP	MAP_MEM	212446536
+SPILL	SORT_AND_SPILL	21558813000
+SPILL	QUICK_SORT	10478577000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	10662255000
+SPILL	WRITE	4137595000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7596674
+SPILL	COMPRESS_BYTE_COUNT	3252280
+SPILL	SORT_AND_SPILL	803658000
+SPILL	QUICK_SORT	133552000
+SPILL	SORT_COUNT	175818
+SPILL	COMBINE	642155000
+SPILL	WRITE	304564000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	565858
+SPILL	COMPRESS_BYTE_COUNT	263666
+MERGE	TOTAL_MERGE	17701898000
+MERGE	READ_WRITE	17384961000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	289718330000
@@ -0,0 +1,67 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt2/part-00014	0
+MAP	STARTUP_MEM	212805680
+MAP	SETUP	504000
+MAP	SETUP_MEM	212805680
+SPILL	SORT_AND_SPILL	34487023000
+SPILL	QUICK_SORT	12387976000
+SPILL	SORT_COUNT	5242880
+SPILL	COMBINE	21620100000
+SPILL	WRITE	7355767000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7307900
+SPILL	COMPRESS_BYTE_COUNT	3156392
+SPILL	SORT_AND_SPILL	32627669773
+SPILL	QUICK_SORT	13429039000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	18597304773
+SPILL	WRITE	6689219773
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7276841
+SPILL	COMPRESS_BYTE_COUNT	3146707
+SPILL	SORT_AND_SPILL	39588503077
+SPILL	QUICK_SORT	18223410077
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	20842422000
+SPILL	WRITE	6483329000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7272660
+SPILL	COMPRESS_BYTE_COUNT	3135407
+MAP	CLEANUP	112000
+MAP	CLEANUP_MEM	211608360
+MAP	TOTAL_RUN	300811727625
+MAP	READ	3165172000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	286291
+MAP	VALUE_BYTE_COUNT	134185930
+MAP	MAP	297469061625
+MAP	WRITE	179083822548
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	31625933773
+MAP	SERIALIZE_OUTPUT	62536722698
+MAP	MAP_MEM	211608360
+SPILL	SORT_AND_SPILL	26558841000
+SPILL	QUICK_SORT	14539426000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	11577118000
+SPILL	WRITE	4428287000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7199615
+SPILL	COMPRESS_BYTE_COUNT	3108940
+SPILL	SORT_AND_SPILL	1320464000
+SPILL	QUICK_SORT	207301000
+SPILL	SORT_COUNT	299615
+SPILL	COMBINE	1067433000
+SPILL	WRITE	475693000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	862530
+SPILL	COMPRESS_BYTE_COUNT	391430
+MERGE	TOTAL_MERGE	18577347773
+MERGE	READ_WRITE	18320413773
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	334200168398
@@ -0,0 +1,67 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt2/part-00015	0
+MAP	STARTUP_MEM	213631488
+MAP	SETUP	651000
+MAP	SETUP_MEM	213631488
+SPILL	SORT_AND_SPILL	36420223000
+SPILL	QUICK_SORT	18505804000
+SPILL	SORT_COUNT	5242880
+SPILL	COMBINE	17367309000
+SPILL	WRITE	6286712000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7374241
+SPILL	COMPRESS_BYTE_COUNT	3179986
+SPILL	SORT_AND_SPILL	35608335000
+SPILL	QUICK_SORT	16641865000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	18269238000
+SPILL	WRITE	7539263000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7289101
+SPILL	COMPRESS_BYTE_COUNT	3162601
+SPILL	SORT_AND_SPILL	31251123000
+SPILL	QUICK_SORT	16364119000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	14330139000
+SPILL	WRITE	4373158000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7354530
+SPILL	COMPRESS_BYTE_COUNT	3184327
+MAP	CLEANUP	112000
+MAP	CLEANUP_MEM	211142416
+MAP	TOTAL_RUN	280152400000
+MAP	READ	2260841000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	307031
+MAP	VALUE_BYTE_COUNT	134198588
+MAP	MAP	277689148000
+MAP	WRITE	160686660000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	25636935000
+MAP	SERIALIZE_OUTPUT	70355549000
+MAP	MAP_MEM	211233360
+SPILL	SORT_AND_SPILL	27052381319
+SPILL	QUICK_SORT	14390008319
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	11124230000
+SPILL	WRITE	3860260000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7263735
+SPILL	COMPRESS_BYTE_COUNT	3131994
+SPILL	SORT_AND_SPILL	1339974000
+SPILL	QUICK_SORT	247152000
+SPILL	SORT_COUNT	319855
+SPILL	COMBINE	1057827000
+SPILL	WRITE	494288000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	874123
+SPILL	COMPRESS_BYTE_COUNT	400898
+MERGE	TOTAL_MERGE	18801677000
+MERGE	READ_WRITE	18694658000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	323786229319
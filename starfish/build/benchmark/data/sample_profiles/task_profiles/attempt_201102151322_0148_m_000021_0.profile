@@ -0,0 +1,67 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt2/part-00016	0
+MAP	STARTUP_MEM	213653360
+MAP	SETUP	496000
+MAP	SETUP_MEM	213653360
+SPILL	SORT_AND_SPILL	34360953000
+SPILL	QUICK_SORT	16777641000
+SPILL	SORT_COUNT	5242880
+SPILL	COMBINE	14445431000
+SPILL	WRITE	6815735000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7232705
+SPILL	COMPRESS_BYTE_COUNT	3117290
+SPILL	SORT_AND_SPILL	33903507000
+SPILL	QUICK_SORT	21406118000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	11888419000
+SPILL	WRITE	3981238000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7367353
+SPILL	COMPRESS_BYTE_COUNT	3180799
+SPILL	SORT_AND_SPILL	30525884000
+SPILL	QUICK_SORT	19626873000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	10500063000
+SPILL	WRITE	4070352000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7471393
+SPILL	COMPRESS_BYTE_COUNT	3217829
+MAP	CLEANUP	105000
+MAP	CLEANUP_MEM	214789640
+MAP	TOTAL_RUN	275236088000
+MAP	READ	2201226000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	330209
+MAP	VALUE_BYTE_COUNT	134177570
+MAP	MAP	272864089000
+MAP	WRITE	164160840000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	23998737000
+MAP	SERIALIZE_OUTPUT	72655575000
+MAP	MAP_MEM	214789640
+SPILL	SORT_AND_SPILL	22860585000
+SPILL	QUICK_SORT	12341622000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	10129174000
+SPILL	WRITE	3891021000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7282396
+SPILL	COMPRESS_BYTE_COUNT	3145016
+SPILL	SORT_AND_SPILL	1360877000
+SPILL	QUICK_SORT	282228000
+SPILL	SORT_COUNT	389803
+SPILL	COMBINE	1044328000
+SPILL	WRITE	459316000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	913620
+SPILL	COMPRESS_BYTE_COUNT	421815
+MERGE	TOTAL_MERGE	17879974000
+MERGE	READ_WRITE	17756925000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	305663066000
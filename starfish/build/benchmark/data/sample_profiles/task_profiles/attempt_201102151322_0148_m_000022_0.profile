@@ -0,0 +1,67 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt2/part-00017	0
+MAP	STARTUP_MEM	213655840
+MAP	SETUP	484000
+MAP	SETUP_MEM	213655840
+SPILL	SORT_AND_SPILL	29812252000
+SPILL	QUICK_SORT	18677302000
+SPILL	SORT_COUNT	5242880
+SPILL	COMBINE	10675411000
+SPILL	WRITE	4244588000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7443393
+SPILL	COMPRESS_BYTE_COUNT	3215044
+SPILL	SORT_AND_SPILL	32163837000
+SPILL	QUICK_SORT	15581420000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	16227828000
+SPILL	WRITE	5565307000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7259607
+SPILL	COMPRESS_BYTE_COUNT	3140946
+SPILL	SORT_AND_SPILL	33245602000
+SPILL	QUICK_SORT	17751491000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	15066868000
+SPILL	WRITE	4636949000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7174865
+SPILL	COMPRESS_BYTE_COUNT	3089649
+MAP	CLEANUP	116000
+MAP	CLEANUP_MEM	213000232
+MAP	TOTAL_RUN	264287635116
+MAP	READ	2185082000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	359385
+MAP	VALUE_BYTE_COUNT	134175337
+MAP	MAP	261859801116
+MAP	WRITE	166725599116
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	24742617000
+MAP	SERIALIZE_OUTPUT	79058370000
+MAP	MAP_MEM	213092464
+SPILL	SORT_AND_SPILL	24102247000
+SPILL	QUICK_SORT	10104633000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	12816318000
+SPILL	WRITE	5518721000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7419202
+SPILL	COMPRESS_BYTE_COUNT	3209676
+SPILL	SORT_AND_SPILL	1207073000
+SPILL	QUICK_SORT	211720000
+SPILL	SORT_COUNT	302585
+SPILL	COMBINE	966129000
+SPILL	WRITE	467362000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	892694
+SPILL	COMPRESS_BYTE_COUNT	406734
+MERGE	TOTAL_MERGE	18205361000
+MERGE	READ_WRITE	17930408000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	300639174116
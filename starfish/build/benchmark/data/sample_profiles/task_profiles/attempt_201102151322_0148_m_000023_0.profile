@@ -0,0 +1,67 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt2/part-00018	0
+MAP	STARTUP_MEM	213525072
+MAP	SETUP	597000
+MAP	SETUP_MEM	213525072
+SPILL	SORT_AND_SPILL	33785082000
+SPILL	QUICK_SORT	15504447000
+SPILL	SORT_COUNT	5242880
+SPILL	COMBINE	17717831000
+SPILL	WRITE	6540057000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7301385
+SPILL	COMPRESS_BYTE_COUNT	3154854
+SPILL	SORT_AND_SPILL	35093026000
+SPILL	QUICK_SORT	21359506000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	12414623000
+SPILL	WRITE	4789563000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7319569
+SPILL	COMPRESS_BYTE_COUNT	3118244
+SPILL	SORT_AND_SPILL	33201169000
+SPILL	QUICK_SORT	14704411000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	17346565000
+SPILL	WRITE	7621209000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7274484
+SPILL	COMPRESS_BYTE_COUNT	3143158
+MAP	CLEANUP	128000
+MAP	CLEANUP_MEM	213138808
+MAP	TOTAL_RUN	271603287000
+MAP	READ	4745310000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	355503
+MAP	VALUE_BYTE_COUNT	134174506
+MAP	MAP	266668758000
+MAP	WRITE	158995820000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	25049832000
+MAP	SERIALIZE_OUTPUT	70675849000
+MAP	MAP_MEM	213138808
+SPILL	SORT_AND_SPILL	21828237000
+SPILL	QUICK_SORT	10575326000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	10848787000
+SPILL	WRITE	4389164000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7830165
+SPILL	COMPRESS_BYTE_COUNT	3372485
+SPILL	SORT_AND_SPILL	1196372000
+SPILL	QUICK_SORT	224796000
+SPILL	SORT_COUNT	303983
+SPILL	COMBINE	940239000
+SPILL	WRITE	449357000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	859614
+SPILL	COMPRESS_BYTE_COUNT	396616
+MERGE	TOTAL_MERGE	19350109000
+MERGE	READ_WRITE	19041321000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	310511556000
@@ -0,0 +1,67 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt2/part-00019	0
+MAP	STARTUP_MEM	213627224
+MAP	SETUP	551000
+MAP	SETUP_MEM	213627224
+SPILL	SORT_AND_SPILL	37364292000
+SPILL	QUICK_SORT	18483497000
+SPILL	SORT_COUNT	5242880
+SPILL	COMBINE	18507047000
+SPILL	WRITE	4882289000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	8146577
+SPILL	COMPRESS_BYTE_COUNT	3412429
+SPILL	SORT_AND_SPILL	30888117000
+SPILL	QUICK_SORT	10983346000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	15891414000
+SPILL	WRITE	6629978000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7340170
+SPILL	COMPRESS_BYTE_COUNT	3156161
+SPILL	SORT_AND_SPILL	33403961000
+SPILL	QUICK_SORT	13833508000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	17414442000
+SPILL	WRITE	6010257000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7335159
+SPILL	COMPRESS_BYTE_COUNT	3150647
+MAP	CLEANUP	108000
+MAP	CLEANUP_MEM	212083288
+MAP	TOTAL_RUN	265387912000
+MAP	READ	4229922000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	351883
+MAP	VALUE_BYTE_COUNT	134177900
+MAP	MAP	260957691000
+MAP	WRITE	146442491000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	27573465000
+MAP	SERIALIZE_OUTPUT	55668237000
+MAP	MAP_MEM	212083288
+SPILL	SORT_AND_SPILL	22142929000
+SPILL	QUICK_SORT	11688984000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	10118433000
+SPILL	WRITE	4051293000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7255818
+SPILL	COMPRESS_BYTE_COUNT	3141188
+SPILL	SORT_AND_SPILL	975754000
+SPILL	QUICK_SORT	153801000
+SPILL	SORT_COUNT	244449
+SPILL	COMBINE	798387000
+SPILL	WRITE	370282000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	701541
+SPILL	COMPRESS_BYTE_COUNT	324694
+MERGE	TOTAL_MERGE	18554511000
+MERGE	READ_WRITE	18257413000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	298094679000
@@ -0,0 +1,67 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt2/part-00020	0
+MAP	STARTUP_MEM	213623152
+MAP	SETUP	559000
+MAP	SETUP_MEM	213623152
+SPILL	SORT_AND_SPILL	34092260602
+SPILL	QUICK_SORT	15899083602
+SPILL	SORT_COUNT	5242880
+SPILL	COMBINE	17144075000
+SPILL	WRITE	6321829000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7305989
+SPILL	COMPRESS_BYTE_COUNT	3162449
+SPILL	SORT_AND_SPILL	35912728000
+SPILL	QUICK_SORT	15007938000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	20144429000
+SPILL	WRITE	7625168000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7290006
+SPILL	COMPRESS_BYTE_COUNT	3156422
+SPILL	SORT_AND_SPILL	37111260602
+SPILL	QUICK_SORT	15993384000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	20513036602
+SPILL	WRITE	8536183602
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7376822
+SPILL	COMPRESS_BYTE_COUNT	3197232
+MAP	CLEANUP	459000
+MAP	CLEANUP_MEM	210480584
+MAP	TOTAL_RUN	317951516609
+MAP	READ	2769989000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	373298
+MAP	VALUE_BYTE_COUNT	134173139
+MAP	MAP	314659225609
+MAP	WRITE	166484643805
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	33295780000
+MAP	SERIALIZE_OUTPUT	49508106203
+MAP	MAP_MEM	210674488
+SPILL	SORT_AND_SPILL	26125261601
+SPILL	QUICK_SORT	13780886601
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	11733588000
+SPILL	WRITE	4270715000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7302504
+SPILL	COMPRESS_BYTE_COUNT	3158748
+SPILL	SORT_AND_SPILL	1155358000
+SPILL	QUICK_SORT	183451000
+SPILL	SORT_COUNT	261702
+SPILL	COMBINE	882479000
+SPILL	WRITE	397351000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	761205
+SPILL	COMPRESS_BYTE_COUNT	348547
+MERGE	TOTAL_MERGE	18158976000
+MERGE	READ_WRITE	17880426000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	352401286609
@@ -0,0 +1,67 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt2/part-00021	0
+MAP	STARTUP_MEM	213636496
+MAP	SETUP	496000
+MAP	SETUP_MEM	213636496
+SPILL	SORT_AND_SPILL	32626425000
+SPILL	QUICK_SORT	16155155000
+SPILL	SORT_COUNT	5242880
+SPILL	COMBINE	15670471000
+SPILL	WRITE	6737459000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7423757
+SPILL	COMPRESS_BYTE_COUNT	3219996
+SPILL	SORT_AND_SPILL	32585283000
+SPILL	QUICK_SORT	17424764000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	14762985000
+SPILL	WRITE	7631133000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7569217
+SPILL	COMPRESS_BYTE_COUNT	3255182
+SPILL	SORT_AND_SPILL	31272270000
+SPILL	QUICK_SORT	18419807000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	12519194000
+SPILL	WRITE	6262297000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7383416
+SPILL	COMPRESS_BYTE_COUNT	3185005
+MAP	CLEANUP	113000
+MAP	CLEANUP_MEM	211779928
+MAP	TOTAL_RUN	257708013000
+MAP	READ	2511057000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	373906
+MAP	VALUE_BYTE_COUNT	134176146
+MAP	MAP	254955932000
+MAP	WRITE	150737638000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	25518585000
+MAP	SERIALIZE_OUTPUT	64369504000
+MAP	MAP_MEM	211977640
+SPILL	SORT_AND_SPILL	22507692000
+SPILL	QUICK_SORT	11198604000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	10895964000
+SPILL	WRITE	4004803000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7291364
+SPILL	COMPRESS_BYTE_COUNT	3152530
+SPILL	SORT_AND_SPILL	929375000
+SPILL	QUICK_SORT	143827000
+SPILL	SORT_COUNT	208810
+SPILL	COMBINE	747882000
+SPILL	WRITE	350084000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	655210
+SPILL	COMPRESS_BYTE_COUNT	305355
+MERGE	TOTAL_MERGE	18762660000
+MERGE	READ_WRITE	18431908000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	294158174000
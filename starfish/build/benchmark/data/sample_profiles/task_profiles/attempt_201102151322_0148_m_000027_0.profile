@@ -0,0 +1,67 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt2/part-00022	0
+MAP	STARTUP_MEM	213616496
+MAP	SETUP	487000
+MAP	SETUP_MEM	213616496
+SPILL	SORT_AND_SPILL	31458074000
+SPILL	QUICK_SORT	15243470000
+SPILL	SORT_COUNT	5242880
+SPILL	COMBINE	15848338000
+SPILL	WRITE	7147941000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7329129
+SPILL	COMPRESS_BYTE_COUNT	3168215
+SPILL	SORT_AND_SPILL	31786283000
+SPILL	QUICK_SORT	16786138000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	14407339000
+SPILL	WRITE	6510721000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7330322
+SPILL	COMPRESS_BYTE_COUNT	3165037
+SPILL	SORT_AND_SPILL	31785351000
+SPILL	QUICK_SORT	13477417000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	17786330000
+SPILL	WRITE	7395083000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7252805
+SPILL	COMPRESS_BYTE_COUNT	3135737
+MAP	CLEANUP	109000
+MAP	CLEANUP_MEM	211398152
+MAP	TOTAL_RUN	271149780000
+MAP	READ	4059902000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	375816
+MAP	VALUE_BYTE_COUNT	134173198
+MAP	MAP	266825711000
+MAP	WRITE	158526879000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	25274421000
+MAP	SERIALIZE_OUTPUT	63642611000
+MAP	MAP_MEM	211557576
+SPILL	SORT_AND_SPILL	21447770000
+SPILL	QUICK_SORT	10562650000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	10488497000
+SPILL	WRITE	4169298000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7486615
+SPILL	COMPRESS_BYTE_COUNT	3228487
+SPILL	SORT_AND_SPILL	945248000
+SPILL	QUICK_SORT	147915000
+SPILL	SORT_COUNT	206582
+SPILL	COMBINE	772511000
+SPILL	WRITE	333493000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	639641
+SPILL	COMPRESS_BYTE_COUNT	297058
+MERGE	TOTAL_MERGE	17497652000
+MERGE	READ_WRITE	17210424000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	304479630000
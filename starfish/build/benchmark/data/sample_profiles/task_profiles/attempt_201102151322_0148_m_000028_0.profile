@@ -0,0 +1,67 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt2/part-00023	0
+MAP	STARTUP_MEM	213616408
+MAP	SETUP	701000
+MAP	SETUP_MEM	213616408
+SPILL	SORT_AND_SPILL	33124930000
+SPILL	QUICK_SORT	18427451000
+SPILL	SORT_COUNT	5242880
+SPILL	COMBINE	14303995000
+SPILL	WRITE	5674168000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7172091
+SPILL	COMPRESS_BYTE_COUNT	3095429
+SPILL	SORT_AND_SPILL	32124486000
+SPILL	QUICK_SORT	21517564000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	10141220000
+SPILL	WRITE	3932838000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7287366
+SPILL	COMPRESS_BYTE_COUNT	3153656
+SPILL	SORT_AND_SPILL	31439989000
+SPILL	QUICK_SORT	13333838000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	17695740000
+SPILL	WRITE	6917955000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7061265
+SPILL	COMPRESS_BYTE_COUNT	3063756
+MAP	CLEANUP	109000
+MAP	CLEANUP_MEM	214754544
+MAP	TOTAL_RUN	266530577000
+MAP	READ	4072402000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	382501
+MAP	VALUE_BYTE_COUNT	134175218
+MAP	MAP	262273656000
+MAP	WRITE	148067371000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	22134499000
+MAP	SERIALIZE_OUTPUT	62510060000
+MAP	MAP_MEM	214754544
+SPILL	SORT_AND_SPILL	25314317000
+SPILL	QUICK_SORT	14697130000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	10192949000
+SPILL	WRITE	3741414000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	6996783
+SPILL	COMPRESS_BYTE_COUNT	3024106
+SPILL	SORT_AND_SPILL	1325734000
+SPILL	QUICK_SORT	268461000
+SPILL	SORT_COUNT	348748
+SPILL	COMBINE	1022169000
+SPILL	WRITE	488560000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	927348
+SPILL	COMPRESS_BYTE_COUNT	425287
+MERGE	TOTAL_MERGE	19038893000
+MERGE	READ_WRITE	18747284000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	303272631000
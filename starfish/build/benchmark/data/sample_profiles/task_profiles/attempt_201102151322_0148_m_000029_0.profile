@@ -0,0 +1,67 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt2/part-00024	0
+MAP	STARTUP_MEM	212763296
+MAP	SETUP	453000
+MAP	SETUP_MEM	212763296
+SPILL	SORT_AND_SPILL	36733821000
+SPILL	QUICK_SORT	20998994000
+SPILL	SORT_COUNT	5242880
+SPILL	COMBINE	14691317000
+SPILL	WRITE	5748418000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7356945
+SPILL	COMPRESS_BYTE_COUNT	3184073
+SPILL	SORT_AND_SPILL	34051132000
+SPILL	QUICK_SORT	15975580000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	16037858000
+SPILL	WRITE	7037019000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7450751
+SPILL	COMPRESS_BYTE_COUNT	3233671
+SPILL	SORT_AND_SPILL	31645007000
+SPILL	QUICK_SORT	18834020000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	11018607000
+SPILL	WRITE	4334494000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7589502
+SPILL	COMPRESS_BYTE_COUNT	3283325
+MAP	CLEANUP	96000
+MAP	CLEANUP_MEM	211217984
+MAP	TOTAL_RUN	277084143000
+MAP	READ	3914743000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	392753
+MAP	VALUE_BYTE_COUNT	134170442
+MAP	MAP	271888434000
+MAP	WRITE	150685158000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	22622574000
+MAP	SERIALIZE_OUTPUT	68241487000
+MAP	MAP_MEM	211473408
+SPILL	SORT_AND_SPILL	25414647000
+SPILL	QUICK_SORT	10424035000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	11565513000
+SPILL	WRITE	4777321000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7902672
+SPILL	COMPRESS_BYTE_COUNT	3423164
+SPILL	SORT_AND_SPILL	1065169000
+SPILL	QUICK_SORT	171808000
+SPILL	SORT_COUNT	243475
+SPILL	COMBINE	846598000
+SPILL	WRITE	399534000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	751516
+SPILL	COMPRESS_BYTE_COUNT	347099
+MERGE	TOTAL_MERGE	18756993000
+MERGE	READ_WRITE	18662842000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	313191591000
@@ -0,0 +1,67 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt2/part-00031	0
+MAP	STARTUP_MEM	213619296
+MAP	SETUP	560000
+MAP	SETUP_MEM	213619296
+SPILL	SORT_AND_SPILL	30343672000
+SPILL	QUICK_SORT	11491154000
+SPILL	SORT_COUNT	5242880
+SPILL	COMBINE	18188515000
+SPILL	WRITE	4654604000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7248077
+SPILL	COMPRESS_BYTE_COUNT	3091836
+SPILL	SORT_AND_SPILL	33425020000
+SPILL	QUICK_SORT	13637334000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	19384728000
+SPILL	WRITE	10214837000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7489251
+SPILL	COMPRESS_BYTE_COUNT	3198632
+SPILL	SORT_AND_SPILL	25845048000
+SPILL	QUICK_SORT	10585022000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	10113831000
+SPILL	WRITE	3846020000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7273909
+SPILL	COMPRESS_BYTE_COUNT	3150825
+MAP	CLEANUP	125000
+MAP	CLEANUP_MEM	213396544
+MAP	TOTAL_RUN	260928076000
+MAP	READ	1999496000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	427193
+MAP	VALUE_BYTE_COUNT	132081001
+MAP	MAP	258669457000
+MAP	WRITE	157704130000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	26311544000
+MAP	SERIALIZE_OUTPUT	65861487000
+MAP	MAP_MEM	213483504
+SPILL	SORT_AND_SPILL	21916800000
+SPILL	QUICK_SORT	10864420000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	10661230000
+SPILL	WRITE	4163455000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7493743
+SPILL	COMPRESS_BYTE_COUNT	3241937
+SPILL	SORT_AND_SPILL	507002000
+SPILL	QUICK_SORT	79790000
+SPILL	SORT_COUNT	115330
+SPILL	COMBINE	408822000
+SPILL	WRITE	196235000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	390022
+SPILL	COMPRESS_BYTE_COUNT	186272
+MERGE	TOTAL_MERGE	18064966000
+MERGE	READ_WRITE	17963889000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	295771727000
@@ -0,0 +1,59 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt2/part-00032	0
+MAP	STARTUP_MEM	213625632
+MAP	SETUP	510000
+MAP	SETUP_MEM	213625632
+SPILL	SORT_AND_SPILL	31465960000
+SPILL	QUICK_SORT	15199990000
+SPILL	SORT_COUNT	5242880
+SPILL	COMBINE	15829664000
+SPILL	WRITE	5677587000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7474364
+SPILL	COMPRESS_BYTE_COUNT	3212439
+SPILL	SORT_AND_SPILL	31258694000
+SPILL	QUICK_SORT	14229311000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	16625144000
+SPILL	WRITE	5750061000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7616410
+SPILL	COMPRESS_BYTE_COUNT	3299526
+SPILL	SORT_AND_SPILL	30944471000
+SPILL	QUICK_SORT	16479989000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	12667507000
+SPILL	WRITE	6214525000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7211896
+SPILL	COMPRESS_BYTE_COUNT	3112266
+MAP	CLEANUP	91000
+MAP	CLEANUP_MEM	212578016
+MAP	TOTAL_RUN	243219458000
+MAP	READ	1984043000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	418982
+MAP	VALUE_BYTE_COUNT	128015016
+MAP	MAP	241024221000
+MAP	WRITE	146799908000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	22777425000
+MAP	SERIALIZE_OUTPUT	59551604000
+MAP	MAP_MEM	212739136
+SPILL	SORT_AND_SPILL	16674403000
+SPILL	QUICK_SORT	7374537000
+SPILL	SORT_COUNT	4502983
+SPILL	COMBINE	8911584000
+SPILL	WRITE	3525284000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	6570342
+SPILL	COMPRESS_BYTE_COUNT	2839620
+MERGE	TOTAL_MERGE	15874080000
+MERGE	READ_WRITE	15616379000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	276224086000
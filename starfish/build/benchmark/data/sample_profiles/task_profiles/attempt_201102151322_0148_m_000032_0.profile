@@ -0,0 +1,59 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt2/part-00030	0
+MAP	STARTUP_MEM	213623000
+MAP	SETUP	501000
+MAP	SETUP_MEM	213623000
+SPILL	SORT_AND_SPILL	31968588000
+SPILL	QUICK_SORT	11963244000
+SPILL	SORT_COUNT	5242880
+SPILL	COMBINE	18136678000
+SPILL	WRITE	7908852000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7293690
+SPILL	COMPRESS_BYTE_COUNT	3161173
+SPILL	SORT_AND_SPILL	31314050000
+SPILL	QUICK_SORT	15010731000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	15888870000
+SPILL	WRITE	5703344000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7299897
+SPILL	COMPRESS_BYTE_COUNT	3163061
+SPILL	SORT_AND_SPILL	31502379000
+SPILL	QUICK_SORT	15075118000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	12568994000
+SPILL	WRITE	6355947000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7398032
+SPILL	COMPRESS_BYTE_COUNT	3195587
+MAP	CLEANUP	91000
+MAP	CLEANUP_MEM	213504096
+MAP	TOTAL_RUN	241666825000
+MAP	READ	1785674000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	402133
+MAP	VALUE_BYTE_COUNT	124781971
+MAP	MAP	239683371000
+MAP	WRITE	135136625000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	23064386000
+MAP	SERIALIZE_OUTPUT	51595314000
+MAP	MAP_MEM	213504096
+SPILL	SORT_AND_SPILL	15468817000
+SPILL	QUICK_SORT	6549869000
+SPILL	SORT_COUNT	4005845
+SPILL	COMBINE	8625786000
+SPILL	WRITE	3294253000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	5976962
+SPILL	COMPRESS_BYTE_COUNT	2597191
+MERGE	TOTAL_MERGE	15484033000
+MERGE	READ_WRITE	15163955000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	273215569000
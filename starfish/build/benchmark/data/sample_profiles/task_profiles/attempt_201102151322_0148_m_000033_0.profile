@@ -0,0 +1,59 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt2/part-00033	0
+MAP	STARTUP_MEM	213612680
+MAP	SETUP	532000
+MAP	SETUP_MEM	213612680
+SPILL	SORT_AND_SPILL	32395388677
+SPILL	QUICK_SORT	12426661677
+SPILL	SORT_COUNT	5242880
+SPILL	COMBINE	19572975000
+SPILL	WRITE	8075177000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7143546
+SPILL	COMPRESS_BYTE_COUNT	3082450
+SPILL	SORT_AND_SPILL	36512951000
+SPILL	QUICK_SORT	13303020000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	22690106000
+SPILL	WRITE	8564461000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7311474
+SPILL	COMPRESS_BYTE_COUNT	3178493
+SPILL	SORT_AND_SPILL	32009432518
+SPILL	QUICK_SORT	11848970000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	19448287518
+SPILL	WRITE	7381249518
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7402080
+SPILL	COMPRESS_BYTE_COUNT	3206388
+MAP	CLEANUP	94000
+MAP	CLEANUP_MEM	214460464
+MAP	TOTAL_RUN	267545600987
+MAP	READ	2192648000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	418378
+MAP	VALUE_BYTE_COUNT	122907588
+MAP	MAP	264862595987
+MAP	WRITE	151368614597
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	30622525000
+MAP	SERIALIZE_OUTPUT	44824011518
+MAP	MAP_MEM	214460464
+SPILL	SORT_AND_SPILL	14110133000
+SPILL	QUICK_SORT	5492699000
+SPILL	SORT_COUNT	3673005
+SPILL	COMBINE	8315506000
+SPILL	WRITE	3106401000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	5669663
+SPILL	COMPRESS_BYTE_COUNT	2472649
+MERGE	TOTAL_MERGE	16729769074
+MERGE	READ_WRITE	16483193074
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	298845090061
@@ -0,0 +1,59 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt2/part-00035	0
+MAP	STARTUP_MEM	213615224
+MAP	SETUP	637000
+MAP	SETUP_MEM	213615224
+SPILL	SORT_AND_SPILL	32782038000
+SPILL	QUICK_SORT	14087825000
+SPILL	SORT_COUNT	5242880
+SPILL	COMBINE	18275457000
+SPILL	WRITE	8631936000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7084272
+SPILL	COMPRESS_BYTE_COUNT	3079635
+SPILL	SORT_AND_SPILL	32077213000
+SPILL	QUICK_SORT	15929490000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	15718301000
+SPILL	WRITE	6207178000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	6669629
+SPILL	COMPRESS_BYTE_COUNT	2909084
+SPILL	SORT_AND_SPILL	28504703000
+SPILL	QUICK_SORT	17300984000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	10589805000
+SPILL	WRITE	4185263000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7224502
+SPILL	COMPRESS_BYTE_COUNT	3138454
+MAP	CLEANUP	88000
+MAP	CLEANUP_MEM	211092272
+MAP	TOTAL_RUN	242834463116
+MAP	READ	3083204116
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	386627
+MAP	VALUE_BYTE_COUNT	121196050
+MAP	MAP	239528195000
+MAP	WRITE	141004730000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	23489251000
+MAP	SERIALIZE_OUTPUT	59084098000
+MAP	MAP_MEM	211092272
+SPILL	SORT_AND_SPILL	13496343000
+SPILL	QUICK_SORT	6087611000
+SPILL	SORT_COUNT	3250625
+SPILL	COMBINE	7173359000
+SPILL	WRITE	2900520000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	5191151
+SPILL	COMPRESS_BYTE_COUNT	2269299
+MERGE	TOTAL_MERGE	17435425000
+MERGE	READ_WRITE	17135742000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	274278065116
@@ -0,0 +1,59 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt2/part-00034	0
+MAP	STARTUP_MEM	213636512
+MAP	SETUP	506000
+MAP	SETUP_MEM	213636512
+SPILL	SORT_AND_SPILL	30965440000
+SPILL	QUICK_SORT	11849184000
+SPILL	SORT_COUNT	5242880
+SPILL	COMBINE	18499133000
+SPILL	WRITE	5646381000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7444747
+SPILL	COMPRESS_BYTE_COUNT	3234480
+SPILL	SORT_AND_SPILL	37258510000
+SPILL	QUICK_SORT	15679173000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	18853559000
+SPILL	WRITE	7581098000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7573242
+SPILL	COMPRESS_BYTE_COUNT	3271611
+SPILL	SORT_AND_SPILL	27482709000
+SPILL	QUICK_SORT	12813656000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	13732669000
+SPILL	WRITE	4748457000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7551810
+SPILL	COMPRESS_BYTE_COUNT	3271511
+MAP	CLEANUP	86000
+MAP	CLEANUP_MEM	212743640
+MAP	TOTAL_RUN	234561713000
+MAP	READ	1681011000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	411981
+MAP	VALUE_BYTE_COUNT	119672367
+MAP	MAP	232525642000
+MAP	WRITE	135512978000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	23026839000
+MAP	SERIALIZE_OUTPUT	59543154000
+MAP	MAP_MEM	212903064
+SPILL	SORT_AND_SPILL	11752791000
+SPILL	QUICK_SORT	4932442000
+SPILL	SORT_COUNT	3121262
+SPILL	COMBINE	6546295000
+SPILL	WRITE	2634661000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	4930122
+SPILL	COMPRESS_BYTE_COUNT	2157114
+MERGE	TOTAL_MERGE	15703658000
+MERGE	READ_WRITE	15614923000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	262641559000
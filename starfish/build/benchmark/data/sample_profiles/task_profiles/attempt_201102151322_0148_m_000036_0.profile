@@ -0,0 +1,59 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt2/part-00036	0
+MAP	STARTUP_MEM	213589864
+MAP	SETUP	492000
+MAP	SETUP_MEM	213589864
+SPILL	SORT_AND_SPILL	30470054000
+SPILL	QUICK_SORT	18641688000
+SPILL	SORT_COUNT	5242880
+SPILL	COMBINE	11115846000
+SPILL	WRITE	4074764000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7087080
+SPILL	COMPRESS_BYTE_COUNT	3088876
+SPILL	SORT_AND_SPILL	36934438000
+SPILL	QUICK_SORT	16716606000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	19610905000
+SPILL	WRITE	7860764000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	6996911
+SPILL	COMPRESS_BYTE_COUNT	3035831
+SPILL	SORT_AND_SPILL	44903561000
+SPILL	QUICK_SORT	22488486000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	21632880000
+SPILL	WRITE	10727716000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7363185
+SPILL	COMPRESS_BYTE_COUNT	3177990
+MAP	CLEANUP	102000
+MAP	CLEANUP_MEM	215634920
+MAP	TOTAL_RUN	263645212000
+MAP	READ	2068125000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	540849
+MAP	VALUE_BYTE_COUNT	117292545
+MAP	MAP	261291559000
+MAP	WRITE	156685670000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	26715996000
+MAP	SERIALIZE_OUTPUT	67298297000
+MAP	MAP_MEM	215634920
+SPILL	SORT_AND_SPILL	11040814000
+SPILL	QUICK_SORT	4772084000
+SPILL	SORT_COUNT	2718147
+SPILL	COMBINE	5967991000
+SPILL	WRITE	2439781000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	4472641
+SPILL	COMPRESS_BYTE_COUNT	1967241
+MERGE	TOTAL_MERGE	15104487000
+MERGE	READ_WRITE	14768864000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	290306356000
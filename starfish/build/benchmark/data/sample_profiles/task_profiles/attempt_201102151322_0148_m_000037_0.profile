@@ -0,0 +1,59 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt2/part-00000	0
+MAP	STARTUP_MEM	213616472
+MAP	SETUP	491000
+MAP	SETUP_MEM	213616472
+SPILL	SORT_AND_SPILL	33182721000
+SPILL	QUICK_SORT	17717732000
+SPILL	SORT_COUNT	5242880
+SPILL	COMBINE	13476035000
+SPILL	WRITE	5268193000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	6919931
+SPILL	COMPRESS_BYTE_COUNT	2973212
+SPILL	SORT_AND_SPILL	32217429000
+SPILL	QUICK_SORT	15749522000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	15035674000
+SPILL	WRITE	5626407000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	6988112
+SPILL	COMPRESS_BYTE_COUNT	2998885
+MAP	CLEANUP	46000
+MAP	CLEANUP_MEM	211296456
+MAP	TOTAL_RUN	218331867000
+MAP	READ	1656742000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	59058
+MAP	VALUE_BYTE_COUNT	108553416
+MAP	MAP	216624495000
+MAP	WRITE	115888236000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	20564173000
+MAP	SERIALIZE_OUTPUT	42936007000
+MAP	MAP_MEM	211539112
+SPILL	SORT_AND_SPILL	33078618000
+SPILL	QUICK_SORT	15526992000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	14619988000
+SPILL	WRITE	5086629000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	6725452
+SPILL	COMPRESS_BYTE_COUNT	2885738
+SPILL	SORT_AND_SPILL	4835317000
+SPILL	QUICK_SORT	1665162000
+SPILL	SORT_COUNT	1217663
+SPILL	COMBINE	2797693000
+SPILL	WRITE	1179939000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	2252720
+SPILL	COMPRESS_BYTE_COUNT	997503
+MERGE	TOTAL_MERGE	12838094000
+MERGE	READ_WRITE	12763471000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	241827865000
@@ -0,0 +1,59 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt2/part-00038	0
+MAP	STARTUP_MEM	213639320
+MAP	SETUP	563000
+MAP	SETUP_MEM	213639320
+SPILL	SORT_AND_SPILL	33662909000
+SPILL	QUICK_SORT	12640134000
+SPILL	SORT_COUNT	5242880
+SPILL	COMBINE	20038611000
+SPILL	WRITE	4344640000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	6974362
+SPILL	COMPRESS_BYTE_COUNT	3029047
+SPILL	SORT_AND_SPILL	32042418000
+SPILL	QUICK_SORT	14656185000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	15931797000
+SPILL	WRITE	6943085000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	6828863
+SPILL	COMPRESS_BYTE_COUNT	2971846
+MAP	CLEANUP	100000
+MAP	CLEANUP_MEM	212252880
+MAP	TOTAL_RUN	218567187000
+MAP	READ	3511067000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	593838
+MAP	VALUE_BYTE_COUNT	107353504
+MAP	MAP	214597613000
+MAP	WRITE	129796514000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	29551955000
+MAP	SERIALIZE_OUTPUT	49111854000
+MAP	MAP_MEM	212495536
+SPILL	SORT_AND_SPILL	27807555000
+SPILL	QUICK_SORT	14700956000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	12744412000
+SPILL	WRITE	4308268000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7199391
+SPILL	COMPRESS_BYTE_COUNT	3118755
+SPILL	SORT_AND_SPILL	3446535000
+SPILL	QUICK_SORT	1065284000
+SPILL	SORT_COUNT	944871
+SPILL	COMBINE	2326141000
+SPILL	WRITE	1068840000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	1945771
+SPILL	COMPRESS_BYTE_COUNT	873810
+MERGE	TOTAL_MERGE	16531944000
+MERGE	READ_WRITE	16105056000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	240007952000
@@ -0,0 +1,59 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt2/part-00001	0
+MAP	STARTUP_MEM	213533656
+MAP	SETUP	521000
+MAP	SETUP_MEM	213533656
+SPILL	SORT_AND_SPILL	33370219000
+SPILL	QUICK_SORT	16110459000
+SPILL	SORT_COUNT	5242880
+SPILL	COMBINE	16889223000
+SPILL	WRITE	4516468000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	6970606
+SPILL	COMPRESS_BYTE_COUNT	2992273
+SPILL	SORT_AND_SPILL	32198748000
+SPILL	QUICK_SORT	17101229000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	14512166000
+SPILL	WRITE	8595224000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7038841
+SPILL	COMPRESS_BYTE_COUNT	3030630
+MAP	CLEANUP	81000
+MAP	CLEANUP_MEM	212035664
+MAP	TOTAL_RUN	210321548000
+MAP	READ	3983058000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	82080
+MAP	VALUE_BYTE_COUNT	105058165
+MAP	MAP	206276418000
+MAP	WRITE	114833115000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	21372648000
+MAP	SERIALIZE_OUTPUT	42348758000
+MAP	MAP_MEM	212035664
+SPILL	SORT_AND_SPILL	22556119000
+SPILL	QUICK_SORT	12624608000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	9607486000
+SPILL	WRITE	3626971000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7002261
+SPILL	COMPRESS_BYTE_COUNT	3001154
+SPILL	SORT_AND_SPILL	2992061000
+SPILL	QUICK_SORT	856517000
+SPILL	SORT_COUNT	779893
+SPILL	COMBINE	2041515000
+SPILL	WRITE	964655000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	1761188
+SPILL	COMPRESS_BYTE_COUNT	781813
+MERGE	TOTAL_MERGE	13612351000
+MERGE	READ_WRITE	13343102000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	239289981000
@@ -0,0 +1,51 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt2/part-00051	0
+MAP	STARTUP_MEM	213618320
+MAP	SETUP	523000
+MAP	SETUP_MEM	213618320
+SPILL	SORT_AND_SPILL	30625309000
+SPILL	QUICK_SORT	11585376000
+SPILL	SORT_COUNT	5242880
+SPILL	COMBINE	18209155000
+SPILL	WRITE	7433974000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7192559
+SPILL	COMPRESS_BYTE_COUNT	3130617
+SPILL	SORT_AND_SPILL	27699401000
+SPILL	QUICK_SORT	11511440000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	15741804000
+SPILL	WRITE	6142214000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	6939737
+SPILL	COMPRESS_BYTE_COUNT	3006239
+MAP	CLEANUP	76000
+MAP	CLEANUP_MEM	213784728
+MAP	TOTAL_RUN	217410488486
+MAP	READ	1897198000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	444140
+MAP	VALUE_BYTE_COUNT	98747765
+MAP	MAP	215127264486
+MAP	WRITE	123774634935
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	28246634000
+MAP	SERIALIZE_OUTPUT	32846078000
+MAP	MAP_MEM	213866688
+SPILL	SORT_AND_SPILL	19178692124
+SPILL	QUICK_SORT	8116186000
+SPILL	SORT_COUNT	4936777
+SPILL	COMBINE	10746366124
+SPILL	WRITE	4078212000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	6990037
+SPILL	COMPRESS_BYTE_COUNT	3039841
+MERGE	TOTAL_MERGE	13058751000
+MERGE	READ_WRITE	12926027000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	250122515610
@@ -0,0 +1,51 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt2/part-00037	0
+MAP	STARTUP_MEM	213629592
+MAP	SETUP	556000
+MAP	SETUP_MEM	213629592
+SPILL	SORT_AND_SPILL	34006292000
+SPILL	QUICK_SORT	18204060000
+SPILL	SORT_COUNT	5242880
+SPILL	COMBINE	15355295000
+SPILL	WRITE	3889673000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7163681
+SPILL	COMPRESS_BYTE_COUNT	3113709
+SPILL	SORT_AND_SPILL	33316402000
+SPILL	QUICK_SORT	22880461000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	9928759000
+SPILL	WRITE	3924031000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7380115
+SPILL	COMPRESS_BYTE_COUNT	3198222
+MAP	CLEANUP	75000
+MAP	CLEANUP_MEM	212516520
+MAP	TOTAL_RUN	187751699000
+MAP	READ	1413136000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	382222
+MAP	VALUE_BYTE_COUNT	98646051
+MAP	MAP	186158942000
+MAP	WRITE	112646612000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	18891082000
+MAP	SERIALIZE_OUTPUT	48772763000
+MAP	MAP_MEM	212677640
+SPILL	SORT_AND_SPILL	19502382000
+SPILL	QUICK_SORT	9337509000
+SPILL	SORT_COUNT	5002762
+SPILL	COMBINE	9802749000
+SPILL	WRITE	3750606000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	6896536
+SPILL	COMPRESS_BYTE_COUNT	3006498
+MERGE	TOTAL_MERGE	12094623000
+MERGE	READ_WRITE	11689283000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	219834769000
@@ -0,0 +1,51 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt2/part-00004	0
+MAP	STARTUP_MEM	213622168
+MAP	SETUP	613000
+MAP	SETUP_MEM	213622168
+SPILL	SORT_AND_SPILL	33998675000
+SPILL	QUICK_SORT	20638018000
+SPILL	SORT_COUNT	5242880
+SPILL	COMBINE	11419938000
+SPILL	WRITE	4112759000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	6754160
+SPILL	COMPRESS_BYTE_COUNT	2883231
+SPILL	SORT_AND_SPILL	31801522000
+SPILL	QUICK_SORT	14415750000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	15485693000
+SPILL	WRITE	4712327000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	6959757
+SPILL	COMPRESS_BYTE_COUNT	2991718
+MAP	CLEANUP	38000
+MAP	CLEANUP_MEM	214739760
+MAP	TOTAL_RUN	187993297000
+MAP	READ	1707873000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	114354
+MAP	VALUE_BYTE_COUNT	96999010
+MAP	MAP	186163619000
+MAP	WRITE	112502032000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	19019679000
+MAP	SERIALIZE_OUTPUT	53531700000
+MAP	MAP_MEM	214828640
+SPILL	SORT_AND_SPILL	22282888000
+SPILL	QUICK_SORT	11716433000
+SPILL	SORT_COUNT	4861013
+SPILL	COMBINE	10168485000
+SPILL	WRITE	3886569000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	6698479
+SPILL	COMPRESS_BYTE_COUNT	2892210
+MERGE	TOTAL_MERGE	13127050000
+MERGE	READ_WRITE	12870382000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	223937755000
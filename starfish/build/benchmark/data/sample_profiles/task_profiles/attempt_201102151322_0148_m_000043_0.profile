@@ -0,0 +1,51 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt2/part-00040	0
+MAP	STARTUP_MEM	213600016
+MAP	SETUP	496000
+MAP	SETUP_MEM	213600016
+SPILL	SORT_AND_SPILL	32410826000
+SPILL	QUICK_SORT	16415396000
+SPILL	SORT_COUNT	5242880
+SPILL	COMBINE	15451238000
+SPILL	WRITE	5394264000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7296000
+SPILL	COMPRESS_BYTE_COUNT	3183798
+SPILL	SORT_AND_SPILL	26468287000
+SPILL	QUICK_SORT	12850795000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	13122689000
+SPILL	WRITE	5016150000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7295908
+SPILL	COMPRESS_BYTE_COUNT	3155281
+MAP	CLEANUP	91000
+MAP	CLEANUP_MEM	211042000
+MAP	TOTAL_RUN	182792531000
+MAP	READ	1695680000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	378240
+MAP	VALUE_BYTE_COUNT	96847938
+MAP	MAP	180887098000
+MAP	WRITE	110541414000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	19610339000
+MAP	SERIALIZE_OUTPUT	47031720000
+MAP	MAP_MEM	211042000
+SPILL	SORT_AND_SPILL	29283472000
+SPILL	QUICK_SORT	15841734000
+SPILL	SORT_COUNT	4759762
+SPILL	COMBINE	13142248000
+SPILL	WRITE	5253630000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	6838874
+SPILL	COMPRESS_BYTE_COUNT	2979941
+MERGE	TOTAL_MERGE	14916175000
+MERGE	READ_WRITE	14752179000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	227608724000
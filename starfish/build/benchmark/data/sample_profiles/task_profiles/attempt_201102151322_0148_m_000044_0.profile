@@ -0,0 +1,51 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt2/part-00047	0
+MAP	STARTUP_MEM	213635416
+MAP	SETUP	590000
+MAP	SETUP_MEM	213635416
+SPILL	SORT_AND_SPILL	32455613000
+SPILL	QUICK_SORT	17449578000
+SPILL	SORT_COUNT	5242880
+SPILL	COMBINE	14608126000
+SPILL	WRITE	6923529000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7358882
+SPILL	COMPRESS_BYTE_COUNT	3204774
+SPILL	SORT_AND_SPILL	30065937000
+SPILL	QUICK_SORT	12499107000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	17113732000
+SPILL	WRITE	6591669000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7295002
+SPILL	COMPRESS_BYTE_COUNT	3163993
+MAP	CLEANUP	100000
+MAP	CLEANUP_MEM	212186784
+MAP	TOTAL_RUN	178752300000
+MAP	READ	1403952000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	374946
+MAP	VALUE_BYTE_COUNT	96492164
+MAP	MAP	177175734000
+MAP	WRITE	106164568000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	17961133000
+MAP	SERIALIZE_OUTPUT	41745897000
+MAP	MAP_MEM	212186784
+SPILL	SORT_AND_SPILL	18005812000
+SPILL	QUICK_SORT	8288468000
+SPILL	SORT_COUNT	4673459
+SPILL	COMBINE	9376545000
+SPILL	WRITE	3703748000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	6830708
+SPILL	COMPRESS_BYTE_COUNT	2946521
+MERGE	TOTAL_MERGE	11693893000
+MERGE	READ_WRITE	11625036000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	209195982000
@@ -0,0 +1,51 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt2/part-00039	0
+MAP	STARTUP_MEM	213631592
+MAP	SETUP	523000
+MAP	SETUP_MEM	213631592
+SPILL	SORT_AND_SPILL	32623266000
+SPILL	QUICK_SORT	14959743000
+SPILL	SORT_COUNT	5242880
+SPILL	COMBINE	15843177000
+SPILL	WRITE	4224752000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7256325
+SPILL	COMPRESS_BYTE_COUNT	3156559
+SPILL	SORT_AND_SPILL	31425625973
+SPILL	QUICK_SORT	14029343973
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	17047621000
+SPILL	WRITE	6735802000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7354529
+SPILL	COMPRESS_BYTE_COUNT	3203131
+MAP	CLEANUP	78000
+MAP	CLEANUP_MEM	215285544
+MAP	TOTAL_RUN	180474525973
+MAP	READ	1629348000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	455831
+MAP	VALUE_BYTE_COUNT	96405955
+MAP	MAP	177613795973
+MAP	WRITE	102366833973
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	18571238000
+MAP	SERIALIZE_OUTPUT	39370486000
+MAP	MAP_MEM	215285544
+SPILL	SORT_AND_SPILL	17563090000
+SPILL	QUICK_SORT	7882944000
+SPILL	SORT_COUNT	4612953
+SPILL	COMBINE	9280451000
+SPILL	WRITE	3803631000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	6453890
+SPILL	COMPRESS_BYTE_COUNT	2809905
+MERGE	TOTAL_MERGE	12321712000
+MERGE	READ_WRITE	12034890000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	210791979973
@@ -0,0 +1,51 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt2/part-00048	0
+MAP	STARTUP_MEM	213622800
+MAP	SETUP	498000
+MAP	SETUP_MEM	213622800
+SPILL	SORT_AND_SPILL	35424562000
+SPILL	QUICK_SORT	17639609000
+SPILL	SORT_COUNT	5242880
+SPILL	COMBINE	17163131000
+SPILL	WRITE	6409815000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7124968
+SPILL	COMPRESS_BYTE_COUNT	3096738
+SPILL	SORT_AND_SPILL	33715841000
+SPILL	QUICK_SORT	20573286000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	12242243000
+SPILL	WRITE	3999998000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7192443
+SPILL	COMPRESS_BYTE_COUNT	3130019
+MAP	CLEANUP	101000
+MAP	CLEANUP_MEM	215438376
+MAP	TOTAL_RUN	200212610000
+MAP	READ	1809143000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	371818
+MAP	VALUE_BYTE_COUNT	96293137
+MAP	MAP	198166985000
+MAP	WRITE	106204579000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	20318032000
+MAP	SERIALIZE_OUTPUT	39549073000
+MAP	MAP_MEM	215438376
+SPILL	SORT_AND_SPILL	34879987000
+SPILL	QUICK_SORT	20953025000
+SPILL	SORT_COUNT	4737016
+SPILL	COMBINE	13496397000
+SPILL	WRITE	4872201000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	6560205
+SPILL	COMPRESS_BYTE_COUNT	2855011
+MERGE	TOTAL_MERGE	15782461000
+MERGE	READ_WRITE	15401149000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	251370151000
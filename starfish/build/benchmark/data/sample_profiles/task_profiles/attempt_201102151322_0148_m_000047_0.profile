@@ -0,0 +1,51 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt2/part-00041	0
+MAP	STARTUP_MEM	213639552
+MAP	SETUP	549000
+MAP	SETUP_MEM	213639552
+SPILL	SORT_AND_SPILL	33216547000
+SPILL	QUICK_SORT	19006145000
+SPILL	SORT_COUNT	5242880
+SPILL	COMBINE	13695058000
+SPILL	WRITE	6684031000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7250024
+SPILL	COMPRESS_BYTE_COUNT	3137249
+SPILL	SORT_AND_SPILL	32168666973
+SPILL	QUICK_SORT	16189325973
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	15580497000
+SPILL	WRITE	3954812000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7548277
+SPILL	COMPRESS_BYTE_COUNT	3261265
+MAP	CLEANUP	81000
+MAP	CLEANUP_MEM	214026592
+MAP	TOTAL_RUN	182974818973
+MAP	READ	1768359000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	351851
+MAP	VALUE_BYTE_COUNT	96087280
+MAP	MAP	181033189973
+MAP	WRITE	107328526000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	20586321000
+MAP	SERIALIZE_OUTPUT	45150348000
+MAP	MAP_MEM	214026592
+SPILL	SORT_AND_SPILL	17102664000
+SPILL	QUICK_SORT	7807680000
+SPILL	SORT_COUNT	4632896
+SPILL	COMBINE	8929464000
+SPILL	WRITE	3524472000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	6571449
+SPILL	COMPRESS_BYTE_COUNT	2848421
+MERGE	TOTAL_MERGE	12299980000
+MERGE	READ_WRITE	12022335000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	212861082973
@@ -0,0 +1,51 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt2/part-00055	0
+MAP	STARTUP_MEM	213618336
+MAP	SETUP	492000
+MAP	SETUP_MEM	213618336
+SPILL	SORT_AND_SPILL	31309005000
+SPILL	QUICK_SORT	11047118000
+SPILL	SORT_COUNT	5242880
+SPILL	COMBINE	18928638000
+SPILL	WRITE	8511374000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7107038
+SPILL	COMPRESS_BYTE_COUNT	3093725
+SPILL	SORT_AND_SPILL	32271608000
+SPILL	QUICK_SORT	20741152000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	11177723000
+SPILL	WRITE	4070440000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7059539
+SPILL	COMPRESS_BYTE_COUNT	3074668
+MAP	CLEANUP	83000
+MAP	CLEANUP_MEM	213356912
+MAP	TOTAL_RUN	177994218000
+MAP	READ	2506118000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	389598
+MAP	VALUE_BYTE_COUNT	95250654
+MAP	MAP	175290959000
+MAP	WRITE	97952822000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	19075404000
+MAP	SERIALIZE_OUTPUT	39049044000
+MAP	MAP_MEM	213599568
+SPILL	SORT_AND_SPILL	20231615000
+SPILL	QUICK_SORT	7472611000
+SPILL	SORT_COUNT	4426823
+SPILL	COMBINE	12305547000
+SPILL	WRITE	4761032000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	6265198
+SPILL	COMPRESS_BYTE_COUNT	2736564
+MERGE	TOTAL_MERGE	11595099000
+MERGE	READ_WRITE	11335734000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	210307167000
@@ -0,0 +1,51 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt2/part-00052	0
+MAP	STARTUP_MEM	212776168
+MAP	SETUP	509000
+MAP	SETUP_MEM	212776168
+SPILL	SORT_AND_SPILL	32407848000
+SPILL	QUICK_SORT	14113096000
+SPILL	SORT_COUNT	5242880
+SPILL	COMBINE	17259909000
+SPILL	WRITE	5822275000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7309293
+SPILL	COMPRESS_BYTE_COUNT	3163773
+SPILL	SORT_AND_SPILL	35164753946
+SPILL	QUICK_SORT	13443000000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	21094846946
+SPILL	WRITE	7563423000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7366228
+SPILL	COMPRESS_BYTE_COUNT	3207613
+MAP	CLEANUP	82000
+MAP	CLEANUP_MEM	211410024
+MAP	TOTAL_RUN	202578137141
+MAP	READ	1847944000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	458600
+MAP	VALUE_BYTE_COUNT	93235610
+MAP	MAP	200067850141
+MAP	WRITE	114586200141
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	23521605000
+MAP	SERIALIZE_OUTPUT	36556449195
+MAP	MAP_MEM	211752384
+SPILL	SORT_AND_SPILL	16976561000
+SPILL	QUICK_SORT	7155948000
+SPILL	SORT_COUNT	4068685
+SPILL	COMBINE	9535545000
+SPILL	WRITE	3709826000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	6187333
+SPILL	COMPRESS_BYTE_COUNT	2677951
+MERGE	TOTAL_MERGE	12354389098
+MERGE	READ_WRITE	12123072098
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	232637414239
@@ -0,0 +1,51 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt2/part-00005	0
+MAP	STARTUP_MEM	212763688
+MAP	SETUP	424000
+MAP	SETUP_MEM	212763688
+SPILL	SORT_AND_SPILL	35277428000
+SPILL	QUICK_SORT	15129467000
+SPILL	SORT_COUNT	5242880
+SPILL	COMBINE	19695438000
+SPILL	WRITE	5786593000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7106687
+SPILL	COMPRESS_BYTE_COUNT	3069796
+SPILL	SORT_AND_SPILL	38855002000
+SPILL	QUICK_SORT	21834763000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	16292452000
+SPILL	WRITE	5445808000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7127618
+SPILL	COMPRESS_BYTE_COUNT	3068551
+MAP	CLEANUP	79000
+MAP	CLEANUP_MEM	212804848
+MAP	TOTAL_RUN	190335630000
+MAP	READ	2645342000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	127188
+MAP	VALUE_BYTE_COUNT	93150749
+MAP	MAP	187621993000
+MAP	WRITE	108758995000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	17937725000
+MAP	SERIALIZE_OUTPUT	48016746000
+MAP	MAP_MEM	212804848
+SPILL	SORT_AND_SPILL	16025575000
+SPILL	QUICK_SORT	7233151000
+SPILL	SORT_COUNT	4188080
+SPILL	COMBINE	8418493000
+SPILL	WRITE	3345098000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	6032928
+SPILL	COMPRESS_BYTE_COUNT	2625516
+MERGE	TOTAL_MERGE	12428576000
+MERGE	READ_WRITE	12342088000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	219438011000
@@ -0,0 +1,51 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt2/part-00003	0
+MAP	STARTUP_MEM	213608304
+MAP	SETUP	524000
+MAP	SETUP_MEM	213608304
+SPILL	SORT_AND_SPILL	33208859601
+SPILL	QUICK_SORT	14533575000
+SPILL	SORT_COUNT	5242880
+SPILL	COMBINE	17866924601
+SPILL	WRITE	5847591601
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7019349
+SPILL	COMPRESS_BYTE_COUNT	3019469
+SPILL	SORT_AND_SPILL	35495774000
+SPILL	QUICK_SORT	15759191000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	19239935000
+SPILL	WRITE	8000234000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7160895
+SPILL	COMPRESS_BYTE_COUNT	3081002
+MAP	CLEANUP	48000
+MAP	CLEANUP_MEM	214112848
+MAP	TOTAL_RUN	207815950406
+MAP	READ	1740337000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	97632
+MAP	VALUE_BYTE_COUNT	92875685
+MAP	MAP	205899884406
+MAP	WRITE	112481517601
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	23305758000
+MAP	SERIALIZE_OUTPUT	32329370601
+MAP	MAP_MEM	214438712
+SPILL	SORT_AND_SPILL	27449994000
+SPILL	QUICK_SORT	12998813000
+SPILL	SORT_COUNT	4151059
+SPILL	COMBINE	13921575000
+SPILL	WRITE	4839544000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	6188396
+SPILL	COMPRESS_BYTE_COUNT	2673371
+MERGE	TOTAL_MERGE	11681591000
+MERGE	READ_WRITE	11405208000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	247469999406
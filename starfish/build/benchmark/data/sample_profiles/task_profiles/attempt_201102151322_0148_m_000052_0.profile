@@ -0,0 +1,51 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt2/part-00058	0
+MAP	STARTUP_MEM	213638944
+MAP	SETUP	578000
+MAP	SETUP_MEM	213638944
+SPILL	SORT_AND_SPILL	35328319000
+SPILL	QUICK_SORT	18631073000
+SPILL	SORT_COUNT	5242880
+SPILL	COMBINE	16161684000
+SPILL	WRITE	7803210000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7294382
+SPILL	COMPRESS_BYTE_COUNT	3178851
+SPILL	SORT_AND_SPILL	33328790000
+SPILL	QUICK_SORT	16411118000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	16071966000
+SPILL	WRITE	6132178000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7283476
+SPILL	COMPRESS_BYTE_COUNT	3168445
+MAP	CLEANUP	76000
+MAP	CLEANUP_MEM	213107032
+MAP	TOTAL_RUN	184449173000
+MAP	READ	1435518000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	396670
+MAP	VALUE_BYTE_COUNT	92810715
+MAP	MAP	182827088000
+MAP	WRITE	104779973000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	16737026000
+MAP	SERIALIZE_OUTPUT	45493461000
+MAP	MAP_MEM	213107032
+SPILL	SORT_AND_SPILL	15257476000
+SPILL	QUICK_SORT	7059325000
+SPILL	SORT_COUNT	4069993
+SPILL	COMBINE	7822897000
+SPILL	WRITE	3074487000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	5800243
+SPILL	COMPRESS_BYTE_COUNT	2509658
+MERGE	TOTAL_MERGE	13114760000
+MERGE	READ_WRITE	12987015000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	213473917000
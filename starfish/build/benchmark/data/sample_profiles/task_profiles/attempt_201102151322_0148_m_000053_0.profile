@@ -0,0 +1,51 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt2/part-00056	0
+MAP	STARTUP_MEM	212791656
+MAP	SETUP	474000
+MAP	SETUP_MEM	212791656
+SPILL	SORT_AND_SPILL	33735274361
+SPILL	QUICK_SORT	14192850000
+SPILL	SORT_COUNT	5242880
+SPILL	COMBINE	18892474361
+SPILL	WRITE	6732169361
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7228833
+SPILL	COMPRESS_BYTE_COUNT	3144956
+SPILL	SORT_AND_SPILL	35629460362
+SPILL	QUICK_SORT	14258730362
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	20710387000
+SPILL	WRITE	7765034000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7187301
+SPILL	COMPRESS_BYTE_COUNT	3143039
+MAP	CLEANUP	79000
+MAP	CLEANUP_MEM	211066656
+MAP	TOTAL_RUN	201135915295
+MAP	READ	1621497000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	424332
+MAP	VALUE_BYTE_COUNT	92026297
+MAP	MAP	199019788295
+MAP	WRITE	110614306295
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	22222560362
+MAP	SERIALIZE_OUTPUT	32629739571
+MAP	MAP_MEM	211066656
+SPILL	SORT_AND_SPILL	16435465000
+SPILL	QUICK_SORT	6902954000
+SPILL	SORT_COUNT	3877348
+SPILL	COMBINE	9092603000
+SPILL	WRITE	3535785000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	5684864
+SPILL	COMPRESS_BYTE_COUNT	2491964
+MERGE	TOTAL_MERGE	11846245000
+MERGE	READ_WRITE	11776182000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	229875735295
@@ -0,0 +1,51 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt2/part-00050	0
+MAP	STARTUP_MEM	212766320
+MAP	SETUP	436000
+MAP	SETUP_MEM	212766320
+SPILL	SORT_AND_SPILL	31554712000
+SPILL	QUICK_SORT	12362198000
+SPILL	SORT_COUNT	5242880
+SPILL	COMBINE	18449940000
+SPILL	WRITE	4196339000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7271908
+SPILL	COMPRESS_BYTE_COUNT	3175995
+SPILL	SORT_AND_SPILL	28049749000
+SPILL	QUICK_SORT	16624960000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	10118507000
+SPILL	WRITE	3968711000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7462746
+SPILL	COMPRESS_BYTE_COUNT	3250060
+MAP	CLEANUP	72000
+MAP	CLEANUP_MEM	212947952
+MAP	TOTAL_RUN	176520958000
+MAP	READ	1550937000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	439054
+MAP	VALUE_BYTE_COUNT	91914228
+MAP	MAP	174655425000
+MAP	WRITE	97370006000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	14760724000
+MAP	SERIALIZE_OUTPUT	47248134000
+MAP	MAP_MEM	212947952
+SPILL	SORT_AND_SPILL	14039922000
+SPILL	QUICK_SORT	6203207000
+SPILL	SORT_COUNT	3839309
+SPILL	COMBINE	7507866000
+SPILL	WRITE	3003507000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	5557472
+SPILL	COMPRESS_BYTE_COUNT	2426053
+MERGE	TOTAL_MERGE	11378755000
+MERGE	READ_WRITE	11312576000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	202619646000
@@ -0,0 +1,51 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt2/part-00042	0
+MAP	STARTUP_MEM	213620536
+MAP	SETUP	521000
+MAP	SETUP_MEM	213620536
+SPILL	SORT_AND_SPILL	34881918000
+SPILL	QUICK_SORT	13195142000
+SPILL	SORT_COUNT	5242880
+SPILL	COMBINE	21167255000
+SPILL	WRITE	8862039000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7411924
+SPILL	COMPRESS_BYTE_COUNT	3217989
+SPILL	SORT_AND_SPILL	32272045000
+SPILL	QUICK_SORT	13264081000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	18633889000
+SPILL	WRITE	7891373000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7441461
+SPILL	COMPRESS_BYTE_COUNT	3253924
+MAP	CLEANUP	76000
+MAP	CLEANUP_MEM	210985288
+MAP	TOTAL_RUN	196674648927
+MAP	READ	1621028000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	335653
+MAP	VALUE_BYTE_COUNT	91451846
+MAP	MAP	194807706927
+MAP	WRITE	111513303927
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	22361824925
+MAP	SERIALIZE_OUTPUT	33815362925
+MAP	MAP_MEM	210985288
+SPILL	SORT_AND_SPILL	17771969000
+SPILL	QUICK_SORT	6186194000
+SPILL	SORT_COUNT	3818789
+SPILL	COMBINE	11263741000
+SPILL	WRITE	4507812000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	6007184
+SPILL	COMPRESS_BYTE_COUNT	2623536
+MERGE	TOTAL_MERGE	11863040000
+MERGE	READ_WRITE	11790912000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	226783535927
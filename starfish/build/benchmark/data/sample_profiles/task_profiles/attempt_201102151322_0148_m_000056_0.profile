@@ -0,0 +1,51 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt2/part-00053	0
+MAP	STARTUP_MEM	214416688
+MAP	SETUP	516000
+MAP	SETUP_MEM	214416688
+SPILL	SORT_AND_SPILL	33781334000
+SPILL	QUICK_SORT	12871937000
+SPILL	SORT_COUNT	5242880
+SPILL	COMBINE	19895259000
+SPILL	WRITE	8154869000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7059547
+SPILL	COMPRESS_BYTE_COUNT	3085482
+SPILL	SORT_AND_SPILL	34450193000
+SPILL	QUICK_SORT	13759937000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	20258323000
+SPILL	WRITE	6891249000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7268327
+SPILL	COMPRESS_BYTE_COUNT	3157035
+MAP	CLEANUP	79000
+MAP	CLEANUP_MEM	212792600
+MAP	TOTAL_RUN	193977098927
+MAP	READ	1392252000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	400421
+MAP	VALUE_BYTE_COUNT	91185770
+MAP	MAP	192204957927
+MAP	WRITE	108309974850
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	21762957000
+MAP	SERIALIZE_OUTPUT	32821493000
+MAP	MAP_MEM	212792600
+SPILL	SORT_AND_SPILL	15170144000
+SPILL	QUICK_SORT	6032446000
+SPILL	SORT_COUNT	3748348
+SPILL	COMBINE	8813173000
+SPILL	WRITE	3252959000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	5771343
+SPILL	COMPRESS_BYTE_COUNT	2538388
+MERGE	TOTAL_MERGE	11385636000
+MERGE	READ_WRITE	11243075000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	221271404927
@@ -0,0 +1,51 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt2/part-00049	0
+MAP	STARTUP_MEM	213633616
+MAP	SETUP	534000
+MAP	SETUP_MEM	213633616
+SPILL	SORT_AND_SPILL	29019876224
+SPILL	QUICK_SORT	17281241000
+SPILL	SORT_COUNT	5242880
+SPILL	COMBINE	10924864224
+SPILL	WRITE	3890647000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7216672
+SPILL	COMPRESS_BYTE_COUNT	3132755
+SPILL	SORT_AND_SPILL	29694425327
+SPILL	QUICK_SORT	13209796327
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	15861429000
+SPILL	WRITE	6024325000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7218659
+SPILL	COMPRESS_BYTE_COUNT	3113098
+MAP	CLEANUP	79000
+MAP	CLEANUP_MEM	213653528
+MAP	TOTAL_RUN	187722998486
+MAP	READ	1825274000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	380477
+MAP	VALUE_BYTE_COUNT	90942380
+MAP	MAP	185666542486
+MAP	WRITE	118767594159
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	21520102000
+MAP	SERIALIZE_OUTPUT	49059341159
+MAP	MAP_MEM	213896184
+SPILL	SORT_AND_SPILL	14402955124
+SPILL	QUICK_SORT	5658909000
+SPILL	SORT_COUNT	3791965
+SPILL	COMBINE	8421956124
+SPILL	WRITE	3221259000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	5744976
+SPILL	COMPRESS_BYTE_COUNT	2519490
+MERGE	TOTAL_MERGE	12911806000
+MERGE	READ_WRITE	12849901000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	215560223610
@@ -0,0 +1,51 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt2/part-00054	0
+MAP	STARTUP_MEM	213636552
+MAP	SETUP	516000
+MAP	SETUP_MEM	213636552
+SPILL	SORT_AND_SPILL	32056082000
+SPILL	QUICK_SORT	14140714000
+SPILL	SORT_COUNT	5242880
+SPILL	COMBINE	17345083000
+SPILL	WRITE	7165570000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7304199
+SPILL	COMPRESS_BYTE_COUNT	3181279
+SPILL	SORT_AND_SPILL	38525395946
+SPILL	QUICK_SORT	20426736000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	17393524946
+SPILL	WRITE	6743214000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7238189
+SPILL	COMPRESS_BYTE_COUNT	3135061
+MAP	CLEANUP	82000
+MAP	CLEANUP_MEM	211770760
+MAP	TOTAL_RUN	201180900141
+MAP	READ	1765145000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	357233
+MAP	VALUE_BYTE_COUNT	90294888
+MAP	MAP	199158220141
+MAP	WRITE	118986802141
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	23001125249
+MAP	SERIALIZE_OUTPUT	44322002946
+MAP	MAP_MEM	211862272
+SPILL	SORT_AND_SPILL	15917112000
+SPILL	QUICK_SORT	6351310000
+SPILL	SORT_COUNT	3626309
+SPILL	COMBINE	9220243000
+SPILL	WRITE	3582172000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	5548003
+SPILL	COMPRESS_BYTE_COUNT	2434505
+MERGE	TOTAL_MERGE	11425372098
+MERGE	READ_WRITE	11363645098
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	229021164239
@@ -0,0 +1,51 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt2/part-00044	0
+MAP	STARTUP_MEM	213536760
+MAP	SETUP	498000
+MAP	SETUP_MEM	213536760
+SPILL	SORT_AND_SPILL	41985440000
+SPILL	QUICK_SORT	22086096000
+SPILL	SORT_COUNT	5242880
+SPILL	COMBINE	19269191000
+SPILL	WRITE	8512833000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7321770
+SPILL	COMPRESS_BYTE_COUNT	3161614
+SPILL	SORT_AND_SPILL	36421177000
+SPILL	QUICK_SORT	17191118000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	15781932000
+SPILL	WRITE	5858491000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7292807
+SPILL	COMPRESS_BYTE_COUNT	3176655
+MAP	CLEANUP	85000
+MAP	CLEANUP_MEM	212863416
+MAP	TOTAL_RUN	193187577000
+MAP	READ	2126868000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	403499
+MAP	VALUE_BYTE_COUNT	89699116
+MAP	MAP	190802890000
+MAP	WRITE	114763031000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	20220443000
+MAP	SERIALIZE_OUTPUT	49458121000
+MAP	MAP_MEM	212863416
+SPILL	SORT_AND_SPILL	14210237000
+SPILL	QUICK_SORT	5770304000
+SPILL	SORT_COUNT	3500415
+SPILL	COMBINE	8064453000
+SPILL	WRITE	3589151000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	5382309
+SPILL	COMPRESS_BYTE_COUNT	2361105
+MERGE	TOTAL_MERGE	12057872000
+MERGE	READ_WRITE	11986056000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	220194812000
@@ -0,0 +1,51 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt2/part-00045	0
+MAP	STARTUP_MEM	213641840
+MAP	SETUP	491000
+MAP	SETUP_MEM	213641840
+SPILL	SORT_AND_SPILL	40352608000
+SPILL	QUICK_SORT	16367829000
+SPILL	SORT_COUNT	5242880
+SPILL	COMBINE	23454279000
+SPILL	WRITE	6172614000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7129187
+SPILL	COMPRESS_BYTE_COUNT	3098611
+SPILL	SORT_AND_SPILL	32508679000
+SPILL	QUICK_SORT	16522896000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	15494390000
+SPILL	WRITE	3855282000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7161993
+SPILL	COMPRESS_BYTE_COUNT	3113594
+MAP	CLEANUP	77000
+MAP	CLEANUP_MEM	212678640
+MAP	TOTAL_RUN	194531830000
+MAP	READ	1550633000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	455574
+MAP	VALUE_BYTE_COUNT	88633876
+MAP	MAP	192744509000
+MAP	WRITE	110102164000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	18176372000
+MAP	SERIALIZE_OUTPUT	38993127000
+MAP	MAP_MEM	212678640
+SPILL	SORT_AND_SPILL	11747854000
+SPILL	QUICK_SORT	5053618000
+SPILL	SORT_COUNT	3301512
+SPILL	COMBINE	6410259000
+SPILL	WRITE	2571299000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	5014886
+SPILL	COMPRESS_BYTE_COUNT	2208038
+MERGE	TOTAL_MERGE	10247035000
+MERGE	READ_WRITE	10175578000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	216990538000
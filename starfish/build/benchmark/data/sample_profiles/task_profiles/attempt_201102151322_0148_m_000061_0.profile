@@ -0,0 +1,51 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt2/part-00066	0
+MAP	STARTUP_MEM	213629208
+MAP	SETUP	500000
+MAP	SETUP_MEM	213629208
+SPILL	SORT_AND_SPILL	35776492000
+SPILL	QUICK_SORT	15578354000
+SPILL	SORT_COUNT	5242880
+SPILL	COMBINE	19644467000
+SPILL	WRITE	8840271000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7537517
+SPILL	COMPRESS_BYTE_COUNT	3285421
+SPILL	SORT_AND_SPILL	37454474000
+SPILL	QUICK_SORT	18971719000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	16752406000
+SPILL	WRITE	8112260000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7416049
+SPILL	COMPRESS_BYTE_COUNT	3214176
+MAP	CLEANUP	83000
+MAP	CLEANUP_MEM	215167000
+MAP	TOTAL_RUN	180170500000
+MAP	READ	1603316000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	357192
+MAP	VALUE_BYTE_COUNT	88604334
+MAP	MAP	178357768000
+MAP	WRITE	113117367000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	22341130000
+MAP	SERIALIZE_OUTPUT	45874308000
+MAP	MAP_MEM	215265208
+SPILL	SORT_AND_SPILL	13359205000
+SPILL	QUICK_SORT	5523946000
+SPILL	SORT_COUNT	3315239
+SPILL	COMBINE	7485248000
+SPILL	WRITE	2834226000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	5418408
+SPILL	COMPRESS_BYTE_COUNT	2377777
+MERGE	TOTAL_MERGE	11309392000
+MERGE	READ_WRITE	11235599000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	205484781000
@@ -0,0 +1,51 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt2/part-00061	0
+MAP	STARTUP_MEM	213638248
+MAP	SETUP	532000
+MAP	SETUP_MEM	213638248
+SPILL	SORT_AND_SPILL	34196628601
+SPILL	QUICK_SORT	14111374000
+SPILL	SORT_COUNT	5242880
+SPILL	COMBINE	19148083000
+SPILL	WRITE	6710761000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7354107
+SPILL	COMPRESS_BYTE_COUNT	3169609
+SPILL	SORT_AND_SPILL	38169127000
+SPILL	QUICK_SORT	15298143000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	22126177000
+SPILL	WRITE	8299993000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7489382
+SPILL	COMPRESS_BYTE_COUNT	3242478
+MAP	CLEANUP	107000
+MAP	CLEANUP_MEM	213670160
+MAP	TOTAL_RUN	206536876406
+MAP	READ	2373720000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	389149
+MAP	VALUE_BYTE_COUNT	87980026
+MAP	MAP	202186243406
+MAP	WRITE	107422184000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	22941966000
+MAP	SERIALIZE_OUTPUT	32436123000
+MAP	MAP_MEM	213768056
+SPILL	SORT_AND_SPILL	21590086000
+SPILL	QUICK_SORT	6408829000
+SPILL	SORT_COUNT	3245471
+SPILL	COMBINE	14674277000
+SPILL	WRITE	6643749000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	5111431
+SPILL	COMPRESS_BYTE_COUNT	2247752
+MERGE	TOTAL_MERGE	11274271000
+MERGE	READ_WRITE	11207639000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	239937222406
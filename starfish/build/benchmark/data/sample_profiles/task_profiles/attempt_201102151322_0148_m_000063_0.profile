@@ -0,0 +1,51 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt2/part-00057	0
+MAP	STARTUP_MEM	213611224
+MAP	SETUP	532000
+MAP	SETUP_MEM	213611224
+SPILL	SORT_AND_SPILL	41727510000
+SPILL	QUICK_SORT	18304869000
+SPILL	SORT_COUNT	5242880
+SPILL	COMBINE	21007044000
+SPILL	WRITE	5933555000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	6953657
+SPILL	COMPRESS_BYTE_COUNT	3029273
+SPILL	SORT_AND_SPILL	33264675000
+SPILL	QUICK_SORT	16636125000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	16265996000
+SPILL	WRITE	7337064000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7453514
+SPILL	COMPRESS_BYTE_COUNT	3229426
+MAP	CLEANUP	82000
+MAP	CLEANUP_MEM	213101456
+MAP	TOTAL_RUN	185845222000
+MAP	READ	1359014000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	440516
+MAP	VALUE_BYTE_COUNT	87553065
+MAP	MAP	184230934000
+MAP	WRITE	107782626000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	16703468000
+MAP	SERIALIZE_OUTPUT	43293886000
+MAP	MAP_MEM	213344112
+SPILL	SORT_AND_SPILL	13588162000
+SPILL	QUICK_SORT	5177274000
+SPILL	SORT_COUNT	3125437
+SPILL	COMBINE	8121113000
+SPILL	WRITE	2854088000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	4970960
+SPILL	COMPRESS_BYTE_COUNT	2186927
+MERGE	TOTAL_MERGE	11423200000
+MERGE	READ_WRITE	11337396000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	211305842000
@@ -0,0 +1,51 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt2/part-00059	0
+MAP	STARTUP_MEM	212773648
+MAP	SETUP	452000
+MAP	SETUP_MEM	212773648
+SPILL	SORT_AND_SPILL	33146037000
+SPILL	QUICK_SORT	15509615000
+SPILL	SORT_COUNT	5242880
+SPILL	COMBINE	17137170000
+SPILL	WRITE	6883052000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7152477
+SPILL	COMPRESS_BYTE_COUNT	3112946
+SPILL	SORT_AND_SPILL	31632073000
+SPILL	QUICK_SORT	16012229000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	15111389000
+SPILL	WRITE	5954071000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7312492
+SPILL	COMPRESS_BYTE_COUNT	3164161
+MAP	CLEANUP	86000
+MAP	CLEANUP_MEM	210893632
+MAP	TOTAL_RUN	171878363000
+MAP	READ	1588140000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	346320
+MAP	VALUE_BYTE_COUNT	87190358
+MAP	MAP	170125726000
+MAP	WRITE	103512024000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	20310814000
+MAP	SERIALIZE_OUTPUT	37224172000
+MAP	MAP_MEM	210893632
+SPILL	SORT_AND_SPILL	12178577000
+SPILL	QUICK_SORT	5330342000
+SPILL	SORT_COUNT	3149143
+SPILL	COMBINE	6611354000
+SPILL	WRITE	2627246000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	4948509
+SPILL	COMPRESS_BYTE_COUNT	2174435
+MERGE	TOTAL_MERGE	11279556000
+MERGE	READ_WRITE	11027913000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	195821306000
@@ -0,0 +1,51 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt2/part-00062	0
+MAP	STARTUP_MEM	213615744
+MAP	SETUP	556000
+MAP	SETUP_MEM	213615744
+SPILL	SORT_AND_SPILL	32839391000
+SPILL	QUICK_SORT	14627509000
+SPILL	SORT_COUNT	5242880
+SPILL	COMBINE	17203099000
+SPILL	WRITE	6462360000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7240092
+SPILL	COMPRESS_BYTE_COUNT	3152378
+SPILL	SORT_AND_SPILL	35547631000
+SPILL	QUICK_SORT	21810894000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	13256337000
+SPILL	WRITE	4676311000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7309372
+SPILL	COMPRESS_BYTE_COUNT	3179196
+MAP	CLEANUP	71000
+MAP	CLEANUP_MEM	211173672
+MAP	TOTAL_RUN	187762573000
+MAP	READ	1357439000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	350366
+MAP	VALUE_BYTE_COUNT	87045531
+MAP	MAP	186224321000
+MAP	WRITE	110558676000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	18167213000
+MAP	SERIALIZE_OUTPUT	45695404000
+MAP	MAP_MEM	211173672
+SPILL	SORT_AND_SPILL	20064116000
+SPILL	QUICK_SORT	7181344000
+SPILL	SORT_COUNT	3126457
+SPILL	COMBINE	12524432000
+SPILL	WRITE	4848793000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	5112780
+SPILL	COMPRESS_BYTE_COUNT	2236940
+MERGE	TOTAL_MERGE	12628139000
+MERGE	READ_WRITE	12551483000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	220895365000
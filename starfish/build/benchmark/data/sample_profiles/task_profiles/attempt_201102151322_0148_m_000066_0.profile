@@ -0,0 +1,51 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt2/part-00065	0
+MAP	STARTUP_MEM	213611544
+MAP	SETUP	557000
+MAP	SETUP_MEM	213611544
+SPILL	SORT_AND_SPILL	32868754000
+SPILL	QUICK_SORT	13398108000
+SPILL	SORT_COUNT	5242880
+SPILL	COMBINE	16335979000
+SPILL	WRITE	7850849000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	8075288
+SPILL	COMPRESS_BYTE_COUNT	3378127
+SPILL	SORT_AND_SPILL	28164302000
+SPILL	QUICK_SORT	15081461000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	12638662000
+SPILL	WRITE	5863703000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7280821
+SPILL	COMPRESS_BYTE_COUNT	3170292
+MAP	CLEANUP	110000
+MAP	CLEANUP_MEM	213292264
+MAP	TOTAL_RUN	167882802000
+MAP	READ	1591081000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	359829
+MAP	VALUE_BYTE_COUNT	86197374
+MAP	MAP	166093890000
+MAP	WRITE	99483833000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	17136990000
+MAP	SERIALIZE_OUTPUT	40856184000
+MAP	MAP_MEM	213534920
+SPILL	SORT_AND_SPILL	10525443000
+SPILL	QUICK_SORT	4156881000
+SPILL	SORT_COUNT	2970154
+SPILL	COMBINE	6092389000
+SPILL	WRITE	2520225000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	4733702
+SPILL	COMPRESS_BYTE_COUNT	2071244
+MERGE	TOTAL_MERGE	10533549000
+MERGE	READ_WRITE	10472328000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	189526095000
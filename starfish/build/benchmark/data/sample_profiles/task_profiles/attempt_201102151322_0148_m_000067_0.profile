@@ -0,0 +1,51 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt2/part-00064	0
+MAP	STARTUP_MEM	213636288
+MAP	SETUP	532000
+MAP	SETUP_MEM	213636288
+SPILL	SORT_AND_SPILL	37199921361
+SPILL	QUICK_SORT	14896794000
+SPILL	SORT_COUNT	5242880
+SPILL	COMBINE	21287705361
+SPILL	WRITE	8374520361
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7336016
+SPILL	COMPRESS_BYTE_COUNT	3178549
+SPILL	SORT_AND_SPILL	36442134000
+SPILL	QUICK_SORT	14706317000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	20838333000
+SPILL	WRITE	8007824000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7257724
+SPILL	COMPRESS_BYTE_COUNT	3153880
+MAP	CLEANUP	73000
+MAP	CLEANUP_MEM	211982192
+MAP	TOTAL_RUN	191925081933
+MAP	READ	1875019000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	360009
+MAP	VALUE_BYTE_COUNT	85555151
+MAP	MAP	189789154933
+MAP	WRITE	111221638572
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	22508444000
+MAP	SERIALIZE_OUTPUT	34654873210
+MAP	MAP_MEM	211982192
+SPILL	SORT_AND_SPILL	11916215362
+SPILL	QUICK_SORT	4669030362
+SPILL	SORT_COUNT	2904678
+SPILL	COMBINE	7021978000
+SPILL	WRITE	2746837000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	4579602
+SPILL	COMPRESS_BYTE_COUNT	2019916
+MERGE	TOTAL_MERGE	10965471000
+MERGE	READ_WRITE	10890859000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	215298434295
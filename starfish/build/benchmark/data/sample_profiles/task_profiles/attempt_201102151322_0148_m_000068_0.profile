@@ -0,0 +1,51 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt2/part-00063	0
+MAP	STARTUP_MEM	213602728
+MAP	SETUP	487000
+MAP	SETUP_MEM	213602728
+SPILL	SORT_AND_SPILL	30095465000
+SPILL	QUICK_SORT	10289993000
+SPILL	SORT_COUNT	5242880
+SPILL	COMBINE	19267049000
+SPILL	WRITE	10433578000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7690499
+SPILL	COMPRESS_BYTE_COUNT	3333836
+SPILL	SORT_AND_SPILL	30165683000
+SPILL	QUICK_SORT	19599008000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	10086855000
+SPILL	WRITE	3977366000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7387694
+SPILL	COMPRESS_BYTE_COUNT	3213583
+MAP	CLEANUP	75000
+MAP	CLEANUP_MEM	214041704
+MAP	TOTAL_RUN	164811286000
+MAP	READ	1308660000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	347829
+MAP	VALUE_BYTE_COUNT	85379007
+MAP	MAP	163247972000
+MAP	WRITE	99587163000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	13595546000
+MAP	SERIALIZE_OUTPUT	39960680000
+MAP	MAP_MEM	214041704
+SPILL	SORT_AND_SPILL	12922130000
+SPILL	QUICK_SORT	6436053000
+SPILL	SORT_COUNT	2869505
+SPILL	COMBINE	6245753000
+SPILL	WRITE	2578161000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	4713650
+SPILL	COMPRESS_BYTE_COUNT	2072113
+MERGE	TOTAL_MERGE	11178707000
+MERGE	READ_WRITE	11083625000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	189354174000
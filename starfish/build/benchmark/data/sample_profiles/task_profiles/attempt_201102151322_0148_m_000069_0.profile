@@ -0,0 +1,51 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt2/part-00006	0
+MAP	STARTUP_MEM	212750016
+MAP	SETUP	416000
+MAP	SETUP_MEM	212750016
+SPILL	SORT_AND_SPILL	32840551000
+SPILL	QUICK_SORT	15232070000
+SPILL	SORT_COUNT	5242880
+SPILL	COMBINE	15307355000
+SPILL	WRITE	8613427000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7212956
+SPILL	COMPRESS_BYTE_COUNT	3125870
+SPILL	SORT_AND_SPILL	39742208000
+SPILL	QUICK_SORT	16569806000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	22409214000
+SPILL	WRITE	9810844000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7388614
+SPILL	COMPRESS_BYTE_COUNT	3211603
+MAP	CLEANUP	87000
+MAP	CLEANUP_MEM	215622520
+MAP	TOTAL_RUN	176360719000
+MAP	READ	1904572000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	139968
+MAP	VALUE_BYTE_COUNT	83994505
+MAP	MAP	174302401000
+MAP	WRITE	106115654000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	18868865000
+MAP	SERIALIZE_OUTPUT	46316475000
+MAP	MAP_MEM	215622520
+SPILL	SORT_AND_SPILL	13909361000
+SPILL	QUICK_SORT	5393971000
+SPILL	SORT_COUNT	2733835
+SPILL	COMBINE	8168821000
+SPILL	WRITE	3750224000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	4570454
+SPILL	COMPRESS_BYTE_COUNT	1999858
+MERGE	TOTAL_MERGE	10874583000
+MERGE	READ_WRITE	10544812000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	201798603000
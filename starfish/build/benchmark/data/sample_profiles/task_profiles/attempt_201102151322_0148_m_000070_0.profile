@@ -0,0 +1,51 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt2/part-00060	0
+MAP	STARTUP_MEM	213644464
+MAP	SETUP	510000
+MAP	SETUP_MEM	213644464
+SPILL	SORT_AND_SPILL	33906483000
+SPILL	QUICK_SORT	18295486000
+SPILL	SORT_COUNT	5242880
+SPILL	COMBINE	14965102000
+SPILL	WRITE	5051622000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7329024
+SPILL	COMPRESS_BYTE_COUNT	3163011
+SPILL	SORT_AND_SPILL	26105046000
+SPILL	QUICK_SORT	13403791000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	12213948000
+SPILL	WRITE	5411855000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7460381
+SPILL	COMPRESS_BYTE_COUNT	3224555
+MAP	CLEANUP	77000
+MAP	CLEANUP_MEM	214619912
+MAP	TOTAL_RUN	167523783000
+MAP	READ	1539415000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	387566
+MAP	VALUE_BYTE_COUNT	82554054
+MAP	MAP	165782130000
+MAP	WRITE	102658477000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	15535779000
+MAP	SERIALIZE_OUTPUT	48851160000
+MAP	MAP_MEM	214952888
+SPILL	SORT_AND_SPILL	9690331000
+SPILL	QUICK_SORT	3486071000
+SPILL	SORT_COUNT	2387877
+SPILL	COMBINE	5945982000
+SPILL	WRITE	2370141000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	4187219
+SPILL	COMPRESS_BYTE_COUNT	1850510
+MERGE	TOTAL_MERGE	10636439000
+MERGE	READ_WRITE	10559757000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	188417576000
@@ -0,0 +1,51 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt2/part-00067	0
+MAP	STARTUP_MEM	213629656
+MAP	SETUP	476000
+MAP	SETUP_MEM	213629656
+SPILL	SORT_AND_SPILL	30316831000
+SPILL	QUICK_SORT	12549727000
+SPILL	SORT_COUNT	5242880
+SPILL	COMBINE	16361632000
+SPILL	WRITE	5845237000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7438702
+SPILL	COMPRESS_BYTE_COUNT	3224215
+SPILL	SORT_AND_SPILL	37146033000
+SPILL	QUICK_SORT	15280810000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	21338980000
+SPILL	WRITE	5729069000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7336131
+SPILL	COMPRESS_BYTE_COUNT	3195721
+MAP	CLEANUP	73000
+MAP	CLEANUP_MEM	213259016
+MAP	TOTAL_RUN	166019407000
+MAP	READ	3717095000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	378370
+MAP	VALUE_BYTE_COUNT	82319185
+MAP	MAP	162079083000
+MAP	WRITE	92167597000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	14869945000
+MAP	SERIALIZE_OUTPUT	35230469000
+MAP	MAP_MEM	213259016
+SPILL	SORT_AND_SPILL	8769740000
+SPILL	QUICK_SORT	3211837000
+SPILL	SORT_COUNT	2310887
+SPILL	COMBINE	5321420000
+SPILL	WRITE	2460257000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	3990142
+SPILL	COMPRESS_BYTE_COUNT	1780232
+MERGE	TOTAL_MERGE	10365362000
+MERGE	READ_WRITE	10133789000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	185578621000
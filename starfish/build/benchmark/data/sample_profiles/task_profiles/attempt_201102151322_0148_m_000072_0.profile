@@ -0,0 +1,51 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt2/part-00046	0
+MAP	STARTUP_MEM	212777072
+MAP	SETUP	440000
+MAP	SETUP_MEM	212777072
+SPILL	SORT_AND_SPILL	32755557000
+SPILL	QUICK_SORT	17419343000
+SPILL	SORT_COUNT	5242880
+SPILL	COMBINE	14908545000
+SPILL	WRITE	3663876000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7000757
+SPILL	COMPRESS_BYTE_COUNT	3040206
+SPILL	SORT_AND_SPILL	30808161000
+SPILL	QUICK_SORT	15089643000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	13651734000
+SPILL	WRITE	4220939000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	8084604
+SPILL	COMPRESS_BYTE_COUNT	3551974
+MAP	CLEANUP	81000
+MAP	CLEANUP_MEM	214033560
+MAP	TOTAL_RUN	160752167000
+MAP	READ	2058625000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	373085
+MAP	VALUE_BYTE_COUNT	80477068
+MAP	MAP	158483805000
+MAP	WRITE	92689977000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	14290626000
+MAP	SERIALIZE_OUTPUT	38812524000
+MAP	MAP_MEM	214278800
+SPILL	SORT_AND_SPILL	7142385000
+SPILL	QUICK_SORT	2618422000
+SPILL	SORT_COUNT	1963154
+SPILL	COMBINE	4256574000
+SPILL	WRITE	1863922000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	3556804
+SPILL	COMPRESS_BYTE_COUNT	1577530
+MERGE	TOTAL_MERGE	10019884000
+MERGE	READ_WRITE	9739262000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	178364424000
@@ -0,0 +1,51 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt2/part-00068	0
+MAP	STARTUP_MEM	212762784
+MAP	SETUP	452000
+MAP	SETUP_MEM	212762784
+SPILL	SORT_AND_SPILL	31292298000
+SPILL	QUICK_SORT	12152567000
+SPILL	SORT_COUNT	5242880
+SPILL	COMBINE	17983721000
+SPILL	WRITE	8478109000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7139825
+SPILL	COMPRESS_BYTE_COUNT	3116177
+SPILL	SORT_AND_SPILL	29521531000
+SPILL	QUICK_SORT	11632934000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	16184517000
+SPILL	WRITE	5150270000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7266857
+SPILL	COMPRESS_BYTE_COUNT	3164684
+MAP	CLEANUP	86000
+MAP	CLEANUP_MEM	213819184
+MAP	TOTAL_RUN	157174277000
+MAP	READ	2348864000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	378935
+MAP	VALUE_BYTE_COUNT	80089304
+MAP	MAP	154648232000
+MAP	WRITE	89277230000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	13788646000
+MAP	SERIALIZE_OUTPUT	32170246000
+MAP	MAP_MEM	214064424
+SPILL	SORT_AND_SPILL	7328880000
+SPILL	QUICK_SORT	2564147000
+SPILL	SORT_COUNT	1882789
+SPILL	COMBINE	4493050000
+SPILL	WRITE	1869358000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	3520595
+SPILL	COMPRESS_BYTE_COUNT	1563027
+MERGE	TOTAL_MERGE	9791958000
+MERGE	READ_WRITE	9727450000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	174768695000
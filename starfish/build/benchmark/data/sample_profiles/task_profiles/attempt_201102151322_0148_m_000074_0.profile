@@ -0,0 +1,51 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt2/part-00007	0
+MAP	STARTUP_MEM	213632232
+MAP	SETUP	471000
+MAP	SETUP_MEM	213632232
+SPILL	SORT_AND_SPILL	30732753000
+SPILL	QUICK_SORT	11288617000
+SPILL	SORT_COUNT	5242880
+SPILL	COMBINE	18689743000
+SPILL	WRITE	7600315000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7014838
+SPILL	COMPRESS_BYTE_COUNT	3032094
+SPILL	SORT_AND_SPILL	32238475512
+SPILL	QUICK_SORT	12161552000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	19508784512
+SPILL	WRITE	7401246512
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7473795
+SPILL	COMPRESS_BYTE_COUNT	3201806
+MAP	CLEANUP	83000
+MAP	CLEANUP_MEM	213161576
+MAP	TOTAL_RUN	169192228596
+MAP	READ	1376867000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	134532
+MAP	VALUE_BYTE_COUNT	77821245
+MAP	MAP	167682937596
+MAP	WRITE	92920906512
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	18154420000
+MAP	SERIALIZE_OUTPUT	28458888000
+MAP	MAP_MEM	213251744
+SPILL	SORT_AND_SPILL	6791224000
+SPILL	QUICK_SORT	2115328000
+SPILL	SORT_COUNT	1692177
+SPILL	COMBINE	4479146000
+SPILL	WRITE	1856243000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	3224345
+SPILL	COMPRESS_BYTE_COUNT	1414666
+MERGE	TOTAL_MERGE	10010883000
+MERGE	READ_WRITE	9752694000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	186571116596
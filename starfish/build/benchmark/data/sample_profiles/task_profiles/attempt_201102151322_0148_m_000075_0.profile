@@ -0,0 +1,51 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt2/part-00070	0
+MAP	STARTUP_MEM	212777400
+MAP	SETUP	451000
+MAP	SETUP_MEM	212777400
+SPILL	SORT_AND_SPILL	32136759000
+SPILL	QUICK_SORT	13640593000
+SPILL	SORT_COUNT	5242880
+SPILL	COMBINE	17768963000
+SPILL	WRITE	7242588000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7349353
+SPILL	COMPRESS_BYTE_COUNT	3191705
+SPILL	SORT_AND_SPILL	32637462512
+SPILL	QUICK_SORT	12731622000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	19125216512
+SPILL	WRITE	7775895512
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7262903
+SPILL	COMPRESS_BYTE_COUNT	3157772
+MAP	CLEANUP	73000
+MAP	CLEANUP_MEM	211287128
+MAP	TOTAL_RUN	178458606596
+MAP	READ	1580170000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	382649
+MAP	VALUE_BYTE_COUNT	77725261
+MAP	MAP	176595374596
+MAP	WRITE	98711364084
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	22111391000
+MAP	SERIALIZE_OUTPUT	27508449930
+MAP	MAP_MEM	211287128
+SPILL	SORT_AND_SPILL	6273327000
+SPILL	QUICK_SORT	1943315000
+SPILL	SORT_COUNT	1584998
+SPILL	COMBINE	4192861000
+SPILL	WRITE	1757225000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	2936149
+SPILL	COMPRESS_BYTE_COUNT	1318098
+MERGE	TOTAL_MERGE	9870951000
+MERGE	READ_WRITE	9641271000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	195047635596
@@ -0,0 +1,51 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt2/part-00069	0
+MAP	STARTUP_MEM	213640264
+MAP	SETUP	484000
+MAP	SETUP_MEM	213640264
+SPILL	SORT_AND_SPILL	31768036000
+SPILL	QUICK_SORT	16489703000
+SPILL	SORT_COUNT	5242880
+SPILL	COMBINE	14842967000
+SPILL	WRITE	5445358000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7331365
+SPILL	COMPRESS_BYTE_COUNT	3182418
+SPILL	SORT_AND_SPILL	31037482000
+SPILL	QUICK_SORT	15587730000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	14589057000
+SPILL	WRITE	5111006000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7127952
+SPILL	COMPRESS_BYTE_COUNT	3109833
+MAP	CLEANUP	93000
+MAP	CLEANUP_MEM	214411224
+MAP	TOTAL_RUN	157390204000
+MAP	READ	1243644000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	347776
+MAP	VALUE_BYTE_COUNT	77375235
+MAP	MAP	155982286000
+MAP	WRITE	97320558000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	16004110000
+MAP	SERIALIZE_OUTPUT	39473862000
+MAP	MAP_MEM	214749616
+SPILL	SORT_AND_SPILL	6023903000
+SPILL	QUICK_SORT	2037649000
+SPILL	SORT_COUNT	1579325
+SPILL	COMBINE	3659716000
+SPILL	WRITE	1565904000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	2870731
+SPILL	COMPRESS_BYTE_COUNT	1286314
+MERGE	TOTAL_MERGE	9685159000
+MERGE	READ_WRITE	9494731000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	173655040000
@@ -0,0 +1,51 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt2/part-00043	0
+MAP	STARTUP_MEM	213569096
+MAP	SETUP	562000
+MAP	SETUP_MEM	213569096
+SPILL	SORT_AND_SPILL	32864740000
+SPILL	QUICK_SORT	20697731000
+SPILL	SORT_COUNT	5242880
+SPILL	COMBINE	11383758000
+SPILL	WRITE	3933683000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7324334
+SPILL	COMPRESS_BYTE_COUNT	3199963
+MAP	CLEANUP	113000
+MAP	CLEANUP_MEM	211511816
+MAP	TOTAL_RUN	160243950891
+MAP	READ	1606951000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	335070
+MAP	VALUE_BYTE_COUNT	73858223
+MAP	MAP	158433972891
+MAP	WRITE	97629942946
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	17096822000
+MAP	SERIALIZE_OUTPUT	38272620946
+MAP	MAP_MEM	211511816
+SPILL	SORT_AND_SPILL	31633320000
+SPILL	QUICK_SORT	14497908000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	16380406000
+SPILL	WRITE	5926825000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7635599
+SPILL	COMPRESS_BYTE_COUNT	3307895
+SPILL	SORT_AND_SPILL	4736356946
+SPILL	QUICK_SORT	1320906000
+SPILL	SORT_COUNT	1026921
+SPILL	COMBINE	3146269946
+SPILL	WRITE	1332228000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	2237418
+SPILL	COMPRESS_BYTE_COUNT	1008364
+MERGE	TOTAL_MERGE	10362524000
+MERGE	READ_WRITE	10111189000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	182627528837
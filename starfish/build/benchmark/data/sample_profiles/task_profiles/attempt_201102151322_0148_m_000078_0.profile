@@ -0,0 +1,51 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt2/part-00071	0
+MAP	STARTUP_MEM	213642304
+MAP	SETUP	498000
+MAP	SETUP_MEM	213642304
+SPILL	SORT_AND_SPILL	33919687000
+SPILL	QUICK_SORT	19020396000
+SPILL	SORT_COUNT	5242880
+SPILL	COMBINE	11946233000
+SPILL	WRITE	4413794000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7543133
+SPILL	COMPRESS_BYTE_COUNT	3281153
+MAP	CLEANUP	80000
+MAP	CLEANUP_MEM	213051872
+MAP	TOTAL_RUN	124200163000
+MAP	READ	1161187000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	350209
+MAP	VALUE_BYTE_COUNT	69423455
+MAP	MAP	122863486000
+MAP	WRITE	71455179000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	11159854000
+MAP	SERIALIZE_OUTPUT	33012159000
+MAP	MAP_MEM	213051872
+SPILL	SORT_AND_SPILL	21583533000
+SPILL	QUICK_SORT	10018357000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	10953026000
+SPILL	WRITE	4381034000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7512958
+SPILL	COMPRESS_BYTE_COUNT	3263531
+SPILL	SORT_AND_SPILL	684124000
+SPILL	QUICK_SORT	118434000
+SPILL	SORT_COUNT	137791
+SPILL	COMBINE	537995000
+SPILL	WRITE	254444000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	473099
+SPILL	COMPRESS_BYTE_COUNT	224063
+MERGE	TOTAL_MERGE	9908063000
+MERGE	READ_WRITE	9628961000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	156842835000
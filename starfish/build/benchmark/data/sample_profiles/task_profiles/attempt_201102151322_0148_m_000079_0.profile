@@ -0,0 +1,51 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt2/part-00002	0
+MAP	STARTUP_MEM	213634016
+MAP	SETUP	535000
+MAP	SETUP_MEM	213634016
+SPILL	SORT_AND_SPILL	21421934077
+SPILL	QUICK_SORT	10763341077
+SPILL	SORT_COUNT	5242880
+SPILL	COMBINE	9983469000
+SPILL	WRITE	2685673000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	3891866
+SPILL	COMPRESS_BYTE_COUNT	1561657
+MAP	CLEANUP	39000
+MAP	CLEANUP_MEM	210782952
+MAP	TOTAL_RUN	125818983002
+MAP	READ	1259737000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	152496
+MAP	VALUE_BYTE_COUNT	63952075
+MAP	MAP	124458630002
+MAP	WRITE	74844910077
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	16123424077
+MAP	SERIALIZE_OUTPUT	20581554000
+MAP	MAP_MEM	210782952
+SPILL	SORT_AND_SPILL	15283025000
+SPILL	QUICK_SORT	6839144000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	8020087000
+SPILL	WRITE	2345321000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	4604249
+SPILL	COMPRESS_BYTE_COUNT	1848042
+SPILL	SORT_AND_SPILL	46961000
+SPILL	QUICK_SORT	3470000
+SPILL	SORT_COUNT	8310
+SPILL	COMBINE	37043000
+SPILL	WRITE	14435000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	33034
+SPILL	COMPRESS_BYTE_COUNT	18419
+MERGE	TOTAL_MERGE	4789025000
+MERGE	READ_WRITE	4552825000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	147189841775
@@ -0,0 +1,43 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt2/part-00009	0
+MAP	STARTUP_MEM	213615600
+MAP	SETUP	494000
+MAP	SETUP_MEM	213615600
+SPILL	SORT_AND_SPILL	33676151000
+SPILL	QUICK_SORT	18098533000
+SPILL	SORT_COUNT	5242880
+SPILL	COMBINE	13367669000
+SPILL	WRITE	5887695000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7334120
+SPILL	COMPRESS_BYTE_COUNT	3170943
+MAP	CLEANUP	51000
+MAP	CLEANUP_MEM	211350808
+MAP	TOTAL_RUN	124948174000
+MAP	READ	1026614000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	123210
+MAP	VALUE_BYTE_COUNT	62866868
+MAP	MAP	123852943000
+MAP	WRITE	74522172000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	11024737000
+MAP	SERIALIZE_OUTPUT	31132695000
+MAP	MAP_MEM	211350808
+SPILL	SORT_AND_SPILL	19675927000
+SPILL	QUICK_SORT	9209423000
+SPILL	SORT_COUNT	4704631
+SPILL	COMBINE	10117741000
+SPILL	WRITE	4323986000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	6911710
+SPILL	COMPRESS_BYTE_COUNT	2995639
+MERGE	TOTAL_MERGE	7519864000
+MERGE	READ_WRITE	7463906000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	152950321000
@@ -0,0 +1,43 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt2/part-00008	0
+MAP	STARTUP_MEM	213650328
+MAP	SETUP	487000
+MAP	SETUP_MEM	213650328
+SPILL	SORT_AND_SPILL	33243711000
+SPILL	QUICK_SORT	15198569000
+SPILL	SORT_COUNT	5242880
+SPILL	COMBINE	16197992000
+SPILL	WRITE	5941519000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7240490
+SPILL	COMPRESS_BYTE_COUNT	3121313
+MAP	CLEANUP	39000
+MAP	CLEANUP_MEM	212018344
+MAP	TOTAL_RUN	135139298891
+MAP	READ	1079398000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	117477
+MAP	VALUE_BYTE_COUNT	62072643
+MAP	MAP	133982672891
+MAP	WRITE	72547052946
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	15709029946
+MAP	SERIALIZE_OUTPUT	20402752000
+MAP	MAP_MEM	212108680
+SPILL	SORT_AND_SPILL	24349001000
+SPILL	QUICK_SORT	8520459000
+SPILL	SORT_COUNT	4564940
+SPILL	COMBINE	15439097000
+SPILL	WRITE	5111002000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	6630940
+SPILL	COMPRESS_BYTE_COUNT	2866013
+MERGE	TOTAL_MERGE	7823409946
+MERGE	READ_WRITE	7773417946
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	168551889837
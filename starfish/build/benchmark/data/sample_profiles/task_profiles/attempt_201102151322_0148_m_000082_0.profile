@@ -0,0 +1,43 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt2/part-00010	0
+MAP	STARTUP_MEM	213633728
+MAP	SETUP	513000
+MAP	SETUP_MEM	213633728
+SPILL	SORT_AND_SPILL	25413013000
+SPILL	QUICK_SORT	15289837000
+SPILL	SORT_COUNT	5242880
+SPILL	COMBINE	9682768000
+SPILL	WRITE	3847444000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7397100
+SPILL	COMPRESS_BYTE_COUNT	3183087
+MAP	CLEANUP	81000
+MAP	CLEANUP_MEM	211534472
+MAP	TOTAL_RUN	105247363249
+MAP	READ	1047032249
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	128736
+MAP	VALUE_BYTE_COUNT	60863673
+MAP	MAP	104126684000
+MAP	WRITE	63007950000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	10449072000
+MAP	SERIALIZE_OUTPUT	28887547000
+MAP	MAP_MEM	211907744
+SPILL	SORT_AND_SPILL	16025562000
+SPILL	QUICK_SORT	7477587000
+SPILL	SORT_COUNT	4398352
+SPILL	COMBINE	8246656000
+SPILL	WRITE	3206312000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	6197737
+SPILL	COMPRESS_BYTE_COUNT	2679104
+MERGE	TOTAL_MERGE	7121621000
+MERGE	READ_WRITE	7070658000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	129005000249
@@ -0,0 +1,43 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt2/part-00011	0
+MAP	STARTUP_MEM	212761456
+MAP	SETUP	504000
+MAP	SETUP_MEM	212761456
+SPILL	SORT_AND_SPILL	36680408754
+SPILL	QUICK_SORT	14944517754
+SPILL	SORT_COUNT	5242880
+SPILL	COMBINE	18358839000
+SPILL	WRITE	7381139000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7313859
+SPILL	COMPRESS_BYTE_COUNT	3152474
+MAP	CLEANUP	56000
+MAP	CLEANUP_MEM	212185032
+MAP	TOTAL_RUN	129155054204
+MAP	READ	994253450
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	128781
+MAP	VALUE_BYTE_COUNT	57267309
+MAP	MAP	128072342754
+MAP	WRITE	68870761000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	13749654000
+MAP	SERIALIZE_OUTPUT	19541164000
+MAP	MAP_MEM	212185032
+SPILL	SORT_AND_SPILL	16856383601
+SPILL	QUICK_SORT	7690544601
+SPILL	SORT_COUNT	3802928
+SPILL	COMBINE	8852800000
+SPILL	WRITE	3340540000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	5792523
+SPILL	COMPRESS_BYTE_COUNT	2518149
+MERGE	TOTAL_MERGE	7024818000
+MERGE	READ_WRITE	6960431000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	154229039805
@@ -0,0 +1,43 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt2/part-00012	0
+MAP	STARTUP_MEM	213630520
+MAP	SETUP	648000
+MAP	SETUP_MEM	213630520
+SPILL	SORT_AND_SPILL	36639536000
+SPILL	QUICK_SORT	23063698000
+SPILL	SORT_COUNT	5242880
+SPILL	COMBINE	12782002000
+SPILL	WRITE	4013813000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7156095
+SPILL	COMPRESS_BYTE_COUNT	3087776
+MAP	CLEANUP	60000
+MAP	CLEANUP_MEM	215099512
+MAP	TOTAL_RUN	115034743319
+MAP	READ	1073932000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	127017
+MAP	VALUE_BYTE_COUNT	55782453
+MAP	MAP	113873535319
+MAP	WRITE	69704189319
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	9112397000
+MAP	SERIALIZE_OUTPUT	30225220319
+MAP	MAP_MEM	215197400
+SPILL	SORT_AND_SPILL	15983445000
+SPILL	QUICK_SORT	7655570000
+SPILL	SORT_COUNT	3597913
+SPILL	COMBINE	7889839000
+SPILL	WRITE	2984147000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	5481185
+SPILL	COMPRESS_BYTE_COUNT	2385814
+MERGE	TOTAL_MERGE	10397435000
+MERGE	READ_WRITE	10297504000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	142277113319
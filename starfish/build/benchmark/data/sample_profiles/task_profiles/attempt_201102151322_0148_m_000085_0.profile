@@ -0,0 +1,43 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt2/part-00013	0
+MAP	STARTUP_MEM	212768280
+MAP	SETUP	468000
+MAP	SETUP_MEM	212768280
+SPILL	SORT_AND_SPILL	32825066754
+SPILL	QUICK_SORT	14200940754
+SPILL	SORT_COUNT	5242880
+SPILL	COMBINE	18008581000
+SPILL	WRITE	6870380000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7481911
+SPILL	COMPRESS_BYTE_COUNT	3203620
+MAP	CLEANUP	53000
+MAP	CLEANUP_MEM	214673584
+MAP	TOTAL_RUN	118440236204
+MAP	READ	1105560000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	121140
+MAP	VALUE_BYTE_COUNT	50778257
+MAP	MAP	117250852204
+MAP	WRITE	61069239754
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	11362628754
+MAP	SERIALIZE_OUTPUT	17726881000
+MAP	MAP_MEM	214673584
+SPILL	SORT_AND_SPILL	12726288601
+SPILL	QUICK_SORT	5335991000
+SPILL	SORT_COUNT	2733769
+SPILL	COMBINE	7044785601
+SPILL	WRITE	2580545000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	4513866
+SPILL	COMPRESS_BYTE_COUNT	1951525
+MERGE	TOTAL_MERGE	6828705000
+MERGE	READ_WRITE	6773913000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	138630846805
@@ -0,0 +1,43 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt2/part-00015	0
+MAP	STARTUP_MEM	212775504
+MAP	SETUP	436000
+MAP	SETUP_MEM	212775504
+SPILL	SORT_AND_SPILL	32863222000
+SPILL	QUICK_SORT	18322135000
+SPILL	SORT_COUNT	5242880
+SPILL	COMBINE	14038585000
+SPILL	WRITE	4740584000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7234402
+SPILL	COMPRESS_BYTE_COUNT	3115123
+MAP	CLEANUP	44000
+MAP	CLEANUP_MEM	215523224
+MAP	TOTAL_RUN	97533983000
+MAP	READ	839842000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	126036
+MAP	VALUE_BYTE_COUNT	47038628
+MAP	MAP	96613988000
+MAP	WRITE	51529310000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	10319533000
+MAP	SERIALIZE_OUTPUT	19752198000
+MAP	MAP_MEM	215523224
+SPILL	SORT_AND_SPILL	8939903000
+SPILL	QUICK_SORT	3476365000
+SPILL	SORT_COUNT	2233938
+SPILL	COMBINE	5190726000
+SPILL	WRITE	2051221000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	3768030
+SPILL	COMPRESS_BYTE_COUNT	1655071
+MERGE	TOTAL_MERGE	5884953000
+MERGE	READ_WRITE	5817514000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	113063649000
@@ -0,0 +1,43 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt2/part-00014	0
+MAP	STARTUP_MEM	213673688
+MAP	SETUP	500000
+MAP	SETUP_MEM	213673688
+SPILL	SORT_AND_SPILL	31321572000
+SPILL	QUICK_SORT	13753901000
+SPILL	SORT_COUNT	5242880
+SPILL	COMBINE	16817517000
+SPILL	WRITE	5792237000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7314274
+SPILL	COMPRESS_BYTE_COUNT	3161718
+MAP	CLEANUP	41000
+MAP	CLEANUP_MEM	213476096
+MAP	TOTAL_RUN	107453803724
+MAP	READ	1014400000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	112491
+MAP	VALUE_BYTE_COUNT	46120991
+MAP	MAP	106266878724
+MAP	WRITE	57037442724
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	12768275514
+MAP	SERIALIZE_OUTPUT	15396118210
+MAP	MAP_MEM	213845432
+SPILL	SORT_AND_SPILL	8875954000
+SPILL	QUICK_SORT	2989315000
+SPILL	SORT_COUNT	2053868
+SPILL	COMBINE	5590223000
+SPILL	WRITE	2142645000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	3675502
+SPILL	COMPRESS_BYTE_COUNT	1620252
+MERGE	TOTAL_MERGE	8573913000
+MERGE	READ_WRITE	8280221000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	125576563724
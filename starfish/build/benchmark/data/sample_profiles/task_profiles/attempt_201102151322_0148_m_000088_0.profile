@@ -0,0 +1,43 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt2/part-00016	0
+MAP	STARTUP_MEM	213647368
+MAP	SETUP	474000
+MAP	SETUP_MEM	213647368
+MAP	CLEANUP	44000
+MAP	CLEANUP_MEM	215641752
+MAP	TOTAL_RUN	86685480724
+MAP	READ	641186000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	114768
+MAP	VALUE_BYTE_COUNT	40275029
+MAP	MAP	85971289724
+MAP	WRITE	44950931210
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	10083399000
+MAP	SERIALIZE_OUTPUT	11833039000
+MAP	MAP_MEM	215641752
+SPILL	SORT_AND_SPILL	32644845210
+SPILL	QUICK_SORT	14548737000
+SPILL	SORT_COUNT	5242880
+SPILL	COMBINE	17337517210
+SPILL	WRITE	6376000210
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7267538
+SPILL	COMPRESS_BYTE_COUNT	3139639
+SPILL	SORT_AND_SPILL	4957748000
+SPILL	QUICK_SORT	1472791000
+SPILL	SORT_COUNT	1143395
+SPILL	COMBINE	3287761000
+SPILL	WRITE	1381261000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	2293522
+SPILL	COMPRESS_BYTE_COUNT	1025270
+MERGE	TOTAL_MERGE	5935916000
+MERGE	READ_WRITE	5872373000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	100966340724
@@ -0,0 +1,43 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt2/part-00018	0
+MAP	STARTUP_MEM	213618600
+MAP	SETUP	530000
+MAP	SETUP_MEM	213618600
+MAP	CLEANUP	93000
+MAP	CLEANUP_MEM	213875320
+MAP	TOTAL_RUN	73645920698
+MAP	READ	558275000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	106389
+MAP	VALUE_BYTE_COUNT	35622992
+MAP	MAP	73021277698
+MAP	WRITE	43373788773
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	8498199000
+MAP	SERIALIZE_OUTPUT	15848291000
+MAP	MAP_MEM	213875320
+SPILL	SORT_AND_SPILL	23075009773
+SPILL	QUICK_SORT	11300855773
+SPILL	SORT_COUNT	5242880
+SPILL	COMBINE	11258490000
+SPILL	WRITE	4346506000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7420417
+SPILL	COMPRESS_BYTE_COUNT	3188785
+SPILL	SORT_AND_SPILL	1532634000
+SPILL	QUICK_SORT	322247000
+SPILL	SORT_COUNT	372262
+SPILL	COMBINE	1175548000
+SPILL	WRITE	493066000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	949681
+SPILL	COMPRESS_BYTE_COUNT	431613
+MERGE	TOTAL_MERGE	5183165000
+MERGE	READ_WRITE	5015318000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	92983864698
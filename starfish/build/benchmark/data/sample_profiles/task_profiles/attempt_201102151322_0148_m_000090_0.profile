@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt2/part-00019	0
+MAP	STARTUP_MEM	212766720
+MAP	SETUP	418000
+MAP	SETUP_MEM	212766720
+MAP	CLEANUP	62000
+MAP	CLEANUP_MEM	212768232
+MAP	TOTAL_RUN	43228484000
+MAP	READ	483758000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	86913
+MAP	VALUE_BYTE_COUNT	28751599
+MAP	MAP	42656363000
+MAP	WRITE	24278939000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	5215911000
+MAP	SERIALIZE_OUTPUT	7860317000
+MAP	MAP_MEM	212768232
+SPILL	SORT_AND_SPILL	24661027000
+SPILL	QUICK_SORT	9057420000
+SPILL	SORT_COUNT	4544774
+SPILL	COMBINE	14923450000
+SPILL	WRITE	5936280000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	6508368
+SPILL	COMPRESS_BYTE_COUNT	2815295
+MERGE	TOTAL_MERGE	1392000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	68419220000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt2/part-00020	0
+MAP	STARTUP_MEM	212781360
+MAP	SETUP	489000
+MAP	SETUP_MEM	212781360
+MAP	CLEANUP	55000
+MAP	CLEANUP_MEM	215203888
+MAP	TOTAL_RUN	42922857077
+MAP	READ	661943000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	67545
+MAP	VALUE_BYTE_COUNT	24259664
+MAP	MAP	42212975077
+MAP	WRITE	24969141077
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	4688560000
+MAP	SERIALIZE_OUTPUT	7516180000
+MAP	MAP_MEM	215203888
+SPILL	SORT_AND_SPILL	18384249000
+SPILL	QUICK_SORT	9192904000
+SPILL	SORT_COUNT	3800828
+SPILL	COMBINE	8855176000
+SPILL	WRITE	3335502000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	5838472
+SPILL	COMPRESS_BYTE_COUNT	2496481
+MERGE	TOTAL_MERGE	1493000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	62237858077
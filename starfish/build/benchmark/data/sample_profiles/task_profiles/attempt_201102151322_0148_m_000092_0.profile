@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt2/part-00017	0
+MAP	STARTUP_MEM	212779304
+MAP	SETUP	462000
+MAP	SETUP_MEM	212779304
+MAP	CLEANUP	91000
+MAP	CLEANUP_MEM	213060296
+MAP	TOTAL_RUN	47364911925
+MAP	READ	522565000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	73854
+MAP	VALUE_BYTE_COUNT	24226218
+MAP	MAP	46775147925
+MAP	WRITE	29284115000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	5042361000
+MAP	SERIALIZE_OUTPUT	8283417000
+MAP	MAP_MEM	213060296
+SPILL	SORT_AND_SPILL	15254571000
+SPILL	QUICK_SORT	6023850000
+SPILL	SORT_COUNT	3812889
+SPILL	COMBINE	8894355000
+SPILL	WRITE	3415724000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	5949161
+SPILL	COMPRESS_BYTE_COUNT	2603578
+MERGE	TOTAL_MERGE	1457000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	63202579925
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt2/part-00022	0
+MAP	STARTUP_MEM	213639616
+MAP	SETUP	469000
+MAP	SETUP_MEM	213639616
+MAP	CLEANUP	67000
+MAP	CLEANUP_MEM	212503384
+MAP	TOTAL_RUN	36285883249
+MAP	READ	382158000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	70731
+MAP	VALUE_BYTE_COUNT	23458031
+MAP	MAP	35834008249
+MAP	WRITE	19997936249
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	3665557000
+MAP	SERIALIZE_OUTPUT	6642987000
+MAP	MAP_MEM	212503384
+SPILL	SORT_AND_SPILL	14366361000
+SPILL	QUICK_SORT	6396080000
+SPILL	SORT_COUNT	3718503
+SPILL	COMBINE	7619103000
+SPILL	WRITE	3075595000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	5568001
+SPILL	COMPRESS_BYTE_COUNT	2428229
+MERGE	TOTAL_MERGE	1513000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	51382193249
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt2/part-00021	0
+MAP	STARTUP_MEM	213640992
+MAP	SETUP	465000
+MAP	SETUP_MEM	213640992
+MAP	CLEANUP	73000
+MAP	CLEANUP_MEM	210960656
+MAP	TOTAL_RUN	29689568000
+MAP	READ	414816000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	60975
+MAP	VALUE_BYTE_COUNT	20014292
+MAP	MAP	29241166000
+MAP	WRITE	16770066000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	3347616000
+MAP	SERIALIZE_OUTPUT	5447924000
+MAP	MAP_MEM	210960656
+SPILL	SORT_AND_SPILL	12699530000
+SPILL	QUICK_SORT	4771539000
+SPILL	SORT_COUNT	3171483
+SPILL	COMBINE	7607528000
+SPILL	WRITE	2985989000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	4985724
+SPILL	COMPRESS_BYTE_COUNT	2172013
+MERGE	TOTAL_MERGE	1426000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	43135501000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt2/part-00023	0
+MAP	STARTUP_MEM	213647224
+MAP	SETUP	492000
+MAP	SETUP_MEM	213647224
+MAP	CLEANUP	56000
+MAP	CLEANUP_MEM	212561592
+MAP	TOTAL_RUN	30298203000
+MAP	READ	304582000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	55026
+MAP	VALUE_BYTE_COUNT	17575917
+MAP	MAP	29956043000
+MAP	WRITE	17246375000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	3540601000
+MAP	SERIALIZE_OUTPUT	5449161000
+MAP	MAP_MEM	212561592
+SPILL	SORT_AND_SPILL	11754745361
+SPILL	QUICK_SORT	4404698000
+SPILL	SORT_COUNT	2784775
+SPILL	COMBINE	7094093361
+SPILL	WRITE	2791538361
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	4574402
+SPILL	COMPRESS_BYTE_COUNT	2006030
+MERGE	TOTAL_MERGE	1546000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	42606337361
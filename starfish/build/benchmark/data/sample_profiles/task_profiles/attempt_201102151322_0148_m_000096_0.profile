@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt2/part-00024	0
+MAP	STARTUP_MEM	212800752
+MAP	SETUP	446000
+MAP	SETUP_MEM	212800752
+MAP	CLEANUP	59000
+MAP	CLEANUP_MEM	213706552
+MAP	TOTAL_RUN	24593031000
+MAP	READ	325883000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	44379
+MAP	VALUE_BYTE_COUNT	13487427
+MAP	MAP	24188178000
+MAP	WRITE	14072633000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	2592477000
+MAP	SERIALIZE_OUTPUT	4661756000
+MAP	MAP_MEM	213706552
+SPILL	SORT_AND_SPILL	8896454361
+SPILL	QUICK_SORT	3059721361
+SPILL	SORT_COUNT	2135237
+SPILL	COMBINE	5435030000
+SPILL	WRITE	2119177000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	3748755
+SPILL	COMPRESS_BYTE_COUNT	1648564
+MERGE	TOTAL_MERGE	1515000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	34038342361
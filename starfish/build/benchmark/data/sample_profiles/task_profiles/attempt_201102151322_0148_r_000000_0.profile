@@ -0,0 +1,410 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1119118
+SHUFFLE	COMPRESS_BYTE_COUNT	379290
+SHUFFLE	COPY_MAP_DATA	231024000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1115880
+SHUFFLE	COMPRESS_BYTE_COUNT	376103
+SHUFFLE	COPY_MAP_DATA	153946000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	790494
+SHUFFLE	COMPRESS_BYTE_COUNT	286275
+SHUFFLE	COPY_MAP_DATA	589567000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1062586
+SHUFFLE	COMPRESS_BYTE_COUNT	363691
+SHUFFLE	COPY_MAP_DATA	7554271000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	992313
+SHUFFLE	COMPRESS_BYTE_COUNT	330822
+SHUFFLE	COPY_MAP_DATA	18572000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1125763
+SHUFFLE	COMPRESS_BYTE_COUNT	381692
+SHUFFLE	COPY_MAP_DATA	39894000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	800606
+SHUFFLE	COMPRESS_BYTE_COUNT	291986
+SHUFFLE	COPY_MAP_DATA	18592000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1118081
+SHUFFLE	COMPRESS_BYTE_COUNT	379605
+SHUFFLE	COPY_MAP_DATA	3642310000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1097253
+SHUFFLE	COMPRESS_BYTE_COUNT	370876
+SHUFFLE	COPY_MAP_DATA	19901000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1145679
+SHUFFLE	COMPRESS_BYTE_COUNT	387503
+SHUFFLE	COPY_MAP_DATA	42219000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1094762
+SHUFFLE	COMPRESS_BYTE_COUNT	368685
+SHUFFLE	COPY_MAP_DATA	72486000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1120659
+SHUFFLE	COMPRESS_BYTE_COUNT	378402
+SHUFFLE	COPY_MAP_DATA	62934000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1025556
+SHUFFLE	COMPRESS_BYTE_COUNT	353123
+SHUFFLE	COPY_MAP_DATA	108055000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1116815
+SHUFFLE	COMPRESS_BYTE_COUNT	377049
+SHUFFLE	COPY_MAP_DATA	117585000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1083090
+SHUFFLE	COMPRESS_BYTE_COUNT	366900
+SHUFFLE	COPY_MAP_DATA	65801000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1135562
+SHUFFLE	COMPRESS_BYTE_COUNT	384059
+SHUFFLE	COPY_MAP_DATA	58711000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1174093
+SHUFFLE	COMPRESS_BYTE_COUNT	389299
+SHUFFLE	COPY_MAP_DATA	29129000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1138192
+SHUFFLE	COMPRESS_BYTE_COUNT	385475
+SHUFFLE	COPY_MAP_DATA	890236000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	939623
+SHUFFLE	COMPRESS_BYTE_COUNT	314648
+SHUFFLE	COPY_MAP_DATA	192070000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1234302
+SHUFFLE	COMPRESS_BYTE_COUNT	411831
+SHUFFLE	COPY_MAP_DATA	146215000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1096507
+SHUFFLE	COMPRESS_BYTE_COUNT	371548
+SHUFFLE	COPY_MAP_DATA	2429827000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1079121
+SHUFFLE	COMPRESS_BYTE_COUNT	364269
+SHUFFLE	COPY_MAP_DATA	215477000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1108538
+SHUFFLE	COMPRESS_BYTE_COUNT	375979
+SHUFFLE	COPY_MAP_DATA	70239000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1109699
+SHUFFLE	COMPRESS_BYTE_COUNT	374365
+SHUFFLE	COPY_MAP_DATA	19703000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1065185
+SHUFFLE	COMPRESS_BYTE_COUNT	359392
+SHUFFLE	COPY_MAP_DATA	1353141000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1003621
+SHUFFLE	COMPRESS_BYTE_COUNT	339023
+SHUFFLE	COPY_MAP_DATA	56417000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1083932
+SHUFFLE	COMPRESS_BYTE_COUNT	364806
+SHUFFLE	COPY_MAP_DATA	18872000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	994900
+SHUFFLE	COMPRESS_BYTE_COUNT	335455
+SHUFFLE	COPY_MAP_DATA	1109538000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1087409
+SHUFFLE	COMPRESS_BYTE_COUNT	367439
+SHUFFLE	COPY_MAP_DATA	330978000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1107111
+SHUFFLE	COMPRESS_BYTE_COUNT	376158
+SHUFFLE	COPY_MAP_DATA	35658000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	749619
+SHUFFLE	COMPRESS_BYTE_COUNT	268877
+SHUFFLE	COPY_MAP_DATA	51367000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	758044
+SHUFFLE	COMPRESS_BYTE_COUNT	274269
+SHUFFLE	COPY_MAP_DATA	23514000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	756091
+SHUFFLE	COMPRESS_BYTE_COUNT	274351
+SHUFFLE	COPY_MAP_DATA	631136000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	778166
+SHUFFLE	COMPRESS_BYTE_COUNT	284019
+SHUFFLE	COPY_MAP_DATA	5180596000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	840533
+SHUFFLE	COMPRESS_BYTE_COUNT	291542
+SHUFFLE	COPY_MAP_DATA	48752000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	793506
+SHUFFLE	COMPRESS_BYTE_COUNT	286266
+SHUFFLE	COPY_MAP_DATA	135249000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	789739
+SHUFFLE	COMPRESS_BYTE_COUNT	287156
+SHUFFLE	COPY_MAP_DATA	16907000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	753445
+SHUFFLE	COMPRESS_BYTE_COUNT	270029
+SHUFFLE	COPY_MAP_DATA	2082279000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	845719
+SHUFFLE	COMPRESS_BYTE_COUNT	291592
+SHUFFLE	COPY_MAP_DATA	103578000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1014898
+SHUFFLE	COMPRESS_BYTE_COUNT	350434
+SHUFFLE	COPY_MAP_DATA	19009000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	784779
+SHUFFLE	COMPRESS_BYTE_COUNT	285106
+SHUFFLE	COPY_MAP_DATA	16641000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	748696
+SHUFFLE	COMPRESS_BYTE_COUNT	271162
+SHUFFLE	COPY_MAP_DATA	38368000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1029919
+SHUFFLE	COMPRESS_BYTE_COUNT	353450
+SHUFFLE	COPY_MAP_DATA	29033000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	710842
+SHUFFLE	COMPRESS_BYTE_COUNT	259149
+SHUFFLE	COPY_MAP_DATA	40711000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	772904
+SHUFFLE	COMPRESS_BYTE_COUNT	283237
+SHUFFLE	COPY_MAP_DATA	16981000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	849043
+SHUFFLE	COMPRESS_BYTE_COUNT	299370
+SHUFFLE	COPY_MAP_DATA	27015000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	749739
+SHUFFLE	COMPRESS_BYTE_COUNT	273011
+SHUFFLE	COPY_MAP_DATA	16019000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	748454
+SHUFFLE	COMPRESS_BYTE_COUNT	272110
+SHUFFLE	COPY_MAP_DATA	168694000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	742219
+SHUFFLE	COMPRESS_BYTE_COUNT	270730
+SHUFFLE	COPY_MAP_DATA	81922000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	776250
+SHUFFLE	COMPRESS_BYTE_COUNT	279644
+SHUFFLE	COPY_MAP_DATA	16522000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	775261
+SHUFFLE	COMPRESS_BYTE_COUNT	280773
+SHUFFLE	COPY_MAP_DATA	77606000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	973220
+SHUFFLE	COMPRESS_BYTE_COUNT	336704
+SHUFFLE	COPY_MAP_DATA	18672000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1106725
+SHUFFLE	COMPRESS_BYTE_COUNT	375189
+SHUFFLE	COPY_MAP_DATA	1609824000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1116834
+SHUFFLE	COMPRESS_BYTE_COUNT	377748
+SHUFFLE	COPY_MAP_DATA	176134000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	742323
+SHUFFLE	COMPRESS_BYTE_COUNT	269741
+SHUFFLE	COPY_MAP_DATA	168699000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1115756
+SHUFFLE	COMPRESS_BYTE_COUNT	379102
+SHUFFLE	COPY_MAP_DATA	1829187000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	747397
+SHUFFLE	COMPRESS_BYTE_COUNT	268725
+SHUFFLE	COPY_MAP_DATA	48744000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	958259
+SHUFFLE	COMPRESS_BYTE_COUNT	332403
+SHUFFLE	COPY_MAP_DATA	18701000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1149232
+SHUFFLE	COMPRESS_BYTE_COUNT	392417
+SHUFFLE	COPY_MAP_DATA	100354000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	219031
+SHUFFLE	COMPRESS_BYTE_COUNT	95786
+SHUFFLE	COPY_MAP_DATA	199760000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	726168
+SHUFFLE	COMPRESS_BYTE_COUNT	264177
+SHUFFLE	COPY_MAP_DATA	687349000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1120104
+SHUFFLE	COMPRESS_BYTE_COUNT	378953
+SHUFFLE	COPY_MAP_DATA	41427000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	758940
+SHUFFLE	COMPRESS_BYTE_COUNT	276439
+SHUFFLE	COPY_MAP_DATA	432369000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	309482
+SHUFFLE	COMPRESS_BYTE_COUNT	126648
+SHUFFLE	COPY_MAP_DATA	377588000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	239340
+SHUFFLE	COMPRESS_BYTE_COUNT	103139
+SHUFFLE	COPY_MAP_DATA	1059171000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	354430
+SHUFFLE	COMPRESS_BYTE_COUNT	141519
+SHUFFLE	COPY_MAP_DATA	9797000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	207286
+SHUFFLE	COMPRESS_BYTE_COUNT	90376
+SHUFFLE	COPY_MAP_DATA	7567000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	408862
+SHUFFLE	COMPRESS_BYTE_COUNT	160836
+SHUFFLE	COPY_MAP_DATA	9742000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	752404
+SHUFFLE	COMPRESS_BYTE_COUNT	273343
+SHUFFLE	COPY_MAP_DATA	24156000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	185572
+SHUFFLE	COMPRESS_BYTE_COUNT	80952
+SHUFFLE	COPY_MAP_DATA	107470000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	734574
+SHUFFLE	COMPRESS_BYTE_COUNT	268043
+SHUFFLE	COPY_MAP_DATA	15653000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	470068
+SHUFFLE	COMPRESS_BYTE_COUNT	182465
+SHUFFLE	COPY_MAP_DATA	526573000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	169550
+SHUFFLE	COMPRESS_BYTE_COUNT	74089
+SHUFFLE	COPY_MAP_DATA	6637000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	216090
+SHUFFLE	COMPRESS_BYTE_COUNT	92489
+SHUFFLE	COPY_MAP_DATA	17042000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	640895
+SHUFFLE	COMPRESS_BYTE_COUNT	236276
+SHUFFLE	COPY_MAP_DATA	13201000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	139068
+SHUFFLE	COMPRESS_BYTE_COUNT	61182
+SHUFFLE	COPY_MAP_DATA	4472000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	744109
+SHUFFLE	COMPRESS_BYTE_COUNT	271047
+SHUFFLE	COPY_MAP_DATA	24678000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	715746
+SHUFFLE	COMPRESS_BYTE_COUNT	260707
+SHUFFLE	COPY_MAP_DATA	13126000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	708912
+SHUFFLE	COMPRESS_BYTE_COUNT	257337
+SHUFFLE	COPY_MAP_DATA	25921000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	657867
+SHUFFLE	COMPRESS_BYTE_COUNT	239900
+SHUFFLE	COPY_MAP_DATA	13939000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	443717
+SHUFFLE	COMPRESS_BYTE_COUNT	171227
+SHUFFLE	COPY_MAP_DATA	20138000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	508735
+SHUFFLE	COMPRESS_BYTE_COUNT	196560
+SHUFFLE	COPY_MAP_DATA	11429000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	660054
+SHUFFLE	COMPRESS_BYTE_COUNT	242227
+SHUFFLE	COPY_MAP_DATA	13965000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	637921
+SHUFFLE	COMPRESS_BYTE_COUNT	239058
+SHUFFLE	COPY_MAP_DATA	74462000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	702942
+SHUFFLE	COMPRESS_BYTE_COUNT	256139
+SHUFFLE	COPY_MAP_DATA	24051000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	650192
+SHUFFLE	COMPRESS_BYTE_COUNT	240251
+SHUFFLE	COPY_MAP_DATA	12964000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	485484
+SHUFFLE	COMPRESS_BYTE_COUNT	187662
+SHUFFLE	COPY_MAP_DATA	21900000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	410873
+SHUFFLE	COMPRESS_BYTE_COUNT	160067
+SHUFFLE	COPY_MAP_DATA	11115000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	698876
+SHUFFLE	COMPRESS_BYTE_COUNT	254598
+SHUFFLE	COPY_MAP_DATA	31838000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	728568
+SHUFFLE	COMPRESS_BYTE_COUNT	265108
+SHUFFLE	COPY_MAP_DATA	14816000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	574397
+SHUFFLE	COMPRESS_BYTE_COUNT	220616
+SHUFFLE	COPY_MAP_DATA	12549000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	502535
+SHUFFLE	COMPRESS_BYTE_COUNT	194181
+SHUFFLE	COPY_MAP_DATA	23738000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	693467
+SHUFFLE	COMPRESS_BYTE_COUNT	253759
+SHUFFLE	COPY_MAP_DATA	14067000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	662533
+SHUFFLE	COMPRESS_BYTE_COUNT	244029
+SHUFFLE	COPY_MAP_DATA	12537000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	527988
+SHUFFLE	COMPRESS_BYTE_COUNT	204024
+SHUFFLE	COPY_MAP_DATA	11777000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	316874
+SHUFFLE	COMPRESS_BYTE_COUNT	112186
+SHUFFLE	COPY_MAP_DATA	7713000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	747112
+SHUFFLE	COMPRESS_BYTE_COUNT	269863
+SHUFFLE	COPY_MAP_DATA	29238000
+SHUFFLE	UNCOMPRESS	0
+SORT	MERGE_MAP_DATA	34072562000
+SORT	READ_WRITE	33993988000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	104645480
+REDUCE	SETUP	321000
+REDUCE	SETUP_MEM	104645480
+REDUCE	CLEANUP	25000
+REDUCE	CLEANUP_MEM	94790768
+REDUCE	TOTAL_RUN	15109754000
+REDUCE	READ	783111000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	8869044000
+REDUCE	WRITE	2452932000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	11651384
+REDUCE	VALUE_BYTE_COUNT	1194395
+REDUCE	REDUCE_MEM	94790768
+REDUCE	WRITE	174679000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	557653413000
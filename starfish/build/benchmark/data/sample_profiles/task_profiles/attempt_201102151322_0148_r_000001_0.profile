@@ -0,0 +1,410 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	797459
+SHUFFLE	COMPRESS_BYTE_COUNT	288545
+SHUFFLE	COPY_MAP_DATA	986354000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1123880
+SHUFFLE	COMPRESS_BYTE_COUNT	379016
+SHUFFLE	COPY_MAP_DATA	32957000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1076695
+SHUFFLE	COMPRESS_BYTE_COUNT	368332
+SHUFFLE	COPY_MAP_DATA	1885534000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	996586
+SHUFFLE	COMPRESS_BYTE_COUNT	332290
+SHUFFLE	COPY_MAP_DATA	61895000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1125814
+SHUFFLE	COMPRESS_BYTE_COUNT	381489
+SHUFFLE	COPY_MAP_DATA	762726000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	801879
+SHUFFLE	COMPRESS_BYTE_COUNT	291935
+SHUFFLE	COPY_MAP_DATA	32930000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1127577
+SHUFFLE	COMPRESS_BYTE_COUNT	382922
+SHUFFLE	COPY_MAP_DATA	911972000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1116127
+SHUFFLE	COMPRESS_BYTE_COUNT	377966
+SHUFFLE	COPY_MAP_DATA	96632000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1102433
+SHUFFLE	COMPRESS_BYTE_COUNT	372286
+SHUFFLE	COPY_MAP_DATA	51070000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1017467
+SHUFFLE	COMPRESS_BYTE_COUNT	349343
+SHUFFLE	COPY_MAP_DATA	139610000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1154915
+SHUFFLE	COMPRESS_BYTE_COUNT	390365
+SHUFFLE	COPY_MAP_DATA	82877000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1088062
+SHUFFLE	COMPRESS_BYTE_COUNT	367933
+SHUFFLE	COPY_MAP_DATA	212187000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1143138
+SHUFFLE	COMPRESS_BYTE_COUNT	385785
+SHUFFLE	COPY_MAP_DATA	168600000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1118825
+SHUFFLE	COMPRESS_BYTE_COUNT	377465
+SHUFFLE	COPY_MAP_DATA	847858000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1174556
+SHUFFLE	COMPRESS_BYTE_COUNT	389782
+SHUFFLE	COPY_MAP_DATA	76884000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1095287
+SHUFFLE	COMPRESS_BYTE_COUNT	368851
+SHUFFLE	COPY_MAP_DATA	24514000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1131527
+SHUFFLE	COMPRESS_BYTE_COUNT	382423
+SHUFFLE	COPY_MAP_DATA	1770839000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1140718
+SHUFFLE	COMPRESS_BYTE_COUNT	384979
+SHUFFLE	COPY_MAP_DATA	334903000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	955353
+SHUFFLE	COMPRESS_BYTE_COUNT	318823
+SHUFFLE	COPY_MAP_DATA	78817000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1248368
+SHUFFLE	COMPRESS_BYTE_COUNT	416539
+SHUFFLE	COPY_MAP_DATA	1326952000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1109895
+SHUFFLE	COMPRESS_BYTE_COUNT	375734
+SHUFFLE	COPY_MAP_DATA	177876000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1086644
+SHUFFLE	COMPRESS_BYTE_COUNT	367087
+SHUFFLE	COPY_MAP_DATA	2010711000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1110825
+SHUFFLE	COMPRESS_BYTE_COUNT	376565
+SHUFFLE	COPY_MAP_DATA	91524000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1116597
+SHUFFLE	COMPRESS_BYTE_COUNT	377010
+SHUFFLE	COPY_MAP_DATA	22364000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1071635
+SHUFFLE	COMPRESS_BYTE_COUNT	360328
+SHUFFLE	COPY_MAP_DATA	2865047000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1021641
+SHUFFLE	COMPRESS_BYTE_COUNT	343088
+SHUFFLE	COPY_MAP_DATA	100866000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1083573
+SHUFFLE	COMPRESS_BYTE_COUNT	364963
+SHUFFLE	COPY_MAP_DATA	22346000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1012516
+SHUFFLE	COMPRESS_BYTE_COUNT	341129
+SHUFFLE	COPY_MAP_DATA	17671000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1096059
+SHUFFLE	COMPRESS_BYTE_COUNT	370587
+SHUFFLE	COPY_MAP_DATA	73909000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1108697
+SHUFFLE	COMPRESS_BYTE_COUNT	376531
+SHUFFLE	COPY_MAP_DATA	19160000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	755490
+SHUFFLE	COMPRESS_BYTE_COUNT	271338
+SHUFFLE	COPY_MAP_DATA	15014000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	760491
+SHUFFLE	COMPRESS_BYTE_COUNT	276065
+SHUFFLE	COPY_MAP_DATA	79949000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	758734
+SHUFFLE	COMPRESS_BYTE_COUNT	275211
+SHUFFLE	COPY_MAP_DATA	521699000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	786228
+SHUFFLE	COMPRESS_BYTE_COUNT	286249
+SHUFFLE	COPY_MAP_DATA	146432000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	797342
+SHUFFLE	COMPRESS_BYTE_COUNT	288060
+SHUFFLE	COPY_MAP_DATA	16093000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	853151
+SHUFFLE	COMPRESS_BYTE_COUNT	297017
+SHUFFLE	COPY_MAP_DATA	35849000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	791359
+SHUFFLE	COMPRESS_BYTE_COUNT	286941
+SHUFFLE	COPY_MAP_DATA	16038000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	761105
+SHUFFLE	COMPRESS_BYTE_COUNT	273263
+SHUFFLE	COPY_MAP_DATA	2845482000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	783691
+SHUFFLE	COMPRESS_BYTE_COUNT	283737
+SHUFFLE	COPY_MAP_DATA	16445000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	853416
+SHUFFLE	COMPRESS_BYTE_COUNT	293889
+SHUFFLE	COPY_MAP_DATA	17075000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1022261
+SHUFFLE	COMPRESS_BYTE_COUNT	352752
+SHUFFLE	COPY_MAP_DATA	390886000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	744942
+SHUFFLE	COMPRESS_BYTE_COUNT	270458
+SHUFFLE	COPY_MAP_DATA	14899000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	775464
+SHUFFLE	COMPRESS_BYTE_COUNT	283614
+SHUFFLE	COPY_MAP_DATA	390058000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	712268
+SHUFFLE	COMPRESS_BYTE_COUNT	258527
+SHUFFLE	COPY_MAP_DATA	247809000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	745650
+SHUFFLE	COMPRESS_BYTE_COUNT	271608
+SHUFFLE	COPY_MAP_DATA	14605000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1045281
+SHUFFLE	COMPRESS_BYTE_COUNT	358545
+SHUFFLE	COPY_MAP_DATA	136861000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	854257
+SHUFFLE	COMPRESS_BYTE_COUNT	301822
+SHUFFLE	COPY_MAP_DATA	10127807000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	746783
+SHUFFLE	COMPRESS_BYTE_COUNT	271393
+SHUFFLE	COPY_MAP_DATA	14525000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	746610
+SHUFFLE	COMPRESS_BYTE_COUNT	273207
+SHUFFLE	COPY_MAP_DATA	15074000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	776359
+SHUFFLE	COMPRESS_BYTE_COUNT	280227
+SHUFFLE	COPY_MAP_DATA	33296000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	973128
+SHUFFLE	COMPRESS_BYTE_COUNT	337008
+SHUFFLE	COPY_MAP_DATA	19659000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	779087
+SHUFFLE	COMPRESS_BYTE_COUNT	282888
+SHUFFLE	COPY_MAP_DATA	1240678000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1121766
+SHUFFLE	COMPRESS_BYTE_COUNT	378841
+SHUFFLE	COPY_MAP_DATA	361016000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	740536
+SHUFFLE	COMPRESS_BYTE_COUNT	268914
+SHUFFLE	COPY_MAP_DATA	158972000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1111065
+SHUFFLE	COMPRESS_BYTE_COUNT	377675
+SHUFFLE	COPY_MAP_DATA	65031000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1127657
+SHUFFLE	COMPRESS_BYTE_COUNT	381856
+SHUFFLE	COPY_MAP_DATA	20871000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	957098
+SHUFFLE	COMPRESS_BYTE_COUNT	331656
+SHUFFLE	COPY_MAP_DATA	87050000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	756501
+SHUFFLE	COMPRESS_BYTE_COUNT	271187
+SHUFFLE	COPY_MAP_DATA	15603000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1155854
+SHUFFLE	COMPRESS_BYTE_COUNT	395461
+SHUFFLE	COPY_MAP_DATA	22355000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	224095
+SHUFFLE	COMPRESS_BYTE_COUNT	97752
+SHUFFLE	COPY_MAP_DATA	47390000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	723122
+SHUFFLE	COMPRESS_BYTE_COUNT	262482
+SHUFFLE	COPY_MAP_DATA	2139020000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1117972
+SHUFFLE	COMPRESS_BYTE_COUNT	378590
+SHUFFLE	COPY_MAP_DATA	3183724000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	760090
+SHUFFLE	COMPRESS_BYTE_COUNT	277157
+SHUFFLE	COPY_MAP_DATA	15666000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	308036
+SHUFFLE	COMPRESS_BYTE_COUNT	126365
+SHUFFLE	COPY_MAP_DATA	169199000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	241093
+SHUFFLE	COMPRESS_BYTE_COUNT	104305
+SHUFFLE	COPY_MAP_DATA	62235000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	357399
+SHUFFLE	COMPRESS_BYTE_COUNT	142439
+SHUFFLE	COPY_MAP_DATA	10118000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	208122
+SHUFFLE	COMPRESS_BYTE_COUNT	91024
+SHUFFLE	COPY_MAP_DATA	123418000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	410490
+SHUFFLE	COMPRESS_BYTE_COUNT	161796
+SHUFFLE	COPY_MAP_DATA	54372000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	749831
+SHUFFLE	COMPRESS_BYTE_COUNT	273387
+SHUFFLE	COPY_MAP_DATA	480392000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	186453
+SHUFFLE	COMPRESS_BYTE_COUNT	81114
+SHUFFLE	COPY_MAP_DATA	12071000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	217574
+SHUFFLE	COMPRESS_BYTE_COUNT	92952
+SHUFFLE	COPY_MAP_DATA	7682000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	734938
+SHUFFLE	COMPRESS_BYTE_COUNT	267928
+SHUFFLE	COPY_MAP_DATA	249692000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	169071
+SHUFFLE	COMPRESS_BYTE_COUNT	74122
+SHUFFLE	COPY_MAP_DATA	6389000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	467830
+SHUFFLE	COMPRESS_BYTE_COUNT	180968
+SHUFFLE	COPY_MAP_DATA	11356000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	138837
+SHUFFLE	COMPRESS_BYTE_COUNT	60997
+SHUFFLE	COPY_MAP_DATA	5352000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	642813
+SHUFFLE	COMPRESS_BYTE_COUNT	237291
+SHUFFLE	COPY_MAP_DATA	33173000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	718623
+SHUFFLE	COMPRESS_BYTE_COUNT	260730
+SHUFFLE	COPY_MAP_DATA	14182000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	743462
+SHUFFLE	COMPRESS_BYTE_COUNT	271011
+SHUFFLE	COPY_MAP_DATA	240683000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	723288
+SHUFFLE	COMPRESS_BYTE_COUNT	263828
+SHUFFLE	COPY_MAP_DATA	14309000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	665710
+SHUFFLE	COMPRESS_BYTE_COUNT	244522
+SHUFFLE	COPY_MAP_DATA	41427000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	660311
+SHUFFLE	COMPRESS_BYTE_COUNT	240936
+SHUFFLE	COPY_MAP_DATA	13939000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	515638
+SHUFFLE	COMPRESS_BYTE_COUNT	198578
+SHUFFLE	COPY_MAP_DATA	11916000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	444154
+SHUFFLE	COMPRESS_BYTE_COUNT	170988
+SHUFFLE	COPY_MAP_DATA	11243000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	639330
+SHUFFLE	COMPRESS_BYTE_COUNT	239292
+SHUFFLE	COPY_MAP_DATA	13928000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	488527
+SHUFFLE	COMPRESS_BYTE_COUNT	189966
+SHUFFLE	COPY_MAP_DATA	31974000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	650087
+SHUFFLE	COMPRESS_BYTE_COUNT	240593
+SHUFFLE	COPY_MAP_DATA	13578000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	712275
+SHUFFLE	COMPRESS_BYTE_COUNT	260054
+SHUFFLE	COPY_MAP_DATA	14818000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	733816
+SHUFFLE	COMPRESS_BYTE_COUNT	266254
+SHUFFLE	COPY_MAP_DATA	52886000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	710308
+SHUFFLE	COMPRESS_BYTE_COUNT	259248
+SHUFFLE	COPY_MAP_DATA	14323000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	409278
+SHUFFLE	COMPRESS_BYTE_COUNT	160124
+SHUFFLE	COPY_MAP_DATA	13289000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	576710
+SHUFFLE	COMPRESS_BYTE_COUNT	221440
+SHUFFLE	COPY_MAP_DATA	30338000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	316162
+SHUFFLE	COMPRESS_BYTE_COUNT	112142
+SHUFFLE	COPY_MAP_DATA	12207000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	506512
+SHUFFLE	COMPRESS_BYTE_COUNT	194846
+SHUFFLE	COPY_MAP_DATA	12401000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	695869
+SHUFFLE	COMPRESS_BYTE_COUNT	255170
+SHUFFLE	COPY_MAP_DATA	25161000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	670211
+SHUFFLE	COMPRESS_BYTE_COUNT	246188
+SHUFFLE	COPY_MAP_DATA	13447000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	534466
+SHUFFLE	COMPRESS_BYTE_COUNT	206563
+SHUFFLE	COPY_MAP_DATA	26884000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	748682
+SHUFFLE	COMPRESS_BYTE_COUNT	270159
+SHUFFLE	COPY_MAP_DATA	15783000
+SHUFFLE	UNCOMPRESS	0
+SORT	MERGE_MAP_DATA	34857416000
+SORT	READ_WRITE	34779987000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	99914144
+REDUCE	SETUP	330000
+REDUCE	SETUP_MEM	99914144
+REDUCE	CLEANUP	26000
+REDUCE	CLEANUP_MEM	93287560
+REDUCE	TOTAL_RUN	15877488000
+REDUCE	READ	891815000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	9654610000
+REDUCE	WRITE	2966675000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	11677015
+REDUCE	VALUE_BYTE_COUNT	1196800
+REDUCE	REDUCE_MEM	93287560
+REDUCE	WRITE	20780000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	562797063000
@@ -0,0 +1,410 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1114807
+SHUFFLE	COMPRESS_BYTE_COUNT	379300
+SHUFFLE	COPY_MAP_DATA	38140000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	787730
+SHUFFLE	COMPRESS_BYTE_COUNT	284629
+SHUFFLE	COPY_MAP_DATA	17507000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1105549
+SHUFFLE	COMPRESS_BYTE_COUNT	373570
+SHUFFLE	COPY_MAP_DATA	66076000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	987148
+SHUFFLE	COMPRESS_BYTE_COUNT	331234
+SHUFFLE	COPY_MAP_DATA	1156820000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1067033
+SHUFFLE	COMPRESS_BYTE_COUNT	366343
+SHUFFLE	COPY_MAP_DATA	46383000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	784913
+SHUFFLE	COMPRESS_BYTE_COUNT	286418
+SHUFFLE	COPY_MAP_DATA	164592000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1108152
+SHUFFLE	COMPRESS_BYTE_COUNT	377026
+SHUFFLE	COPY_MAP_DATA	128685000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1143092
+SHUFFLE	COMPRESS_BYTE_COUNT	387425
+SHUFFLE	COPY_MAP_DATA	37568000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1016727
+SHUFFLE	COMPRESS_BYTE_COUNT	350316
+SHUFFLE	COPY_MAP_DATA	72249000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1078030
+SHUFFLE	COMPRESS_BYTE_COUNT	365731
+SHUFFLE	COPY_MAP_DATA	132705000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1108322
+SHUFFLE	COMPRESS_BYTE_COUNT	375496
+SHUFFLE	COPY_MAP_DATA	21656000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1106654
+SHUFFLE	COMPRESS_BYTE_COUNT	373337
+SHUFFLE	COPY_MAP_DATA	36150000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1128875
+SHUFFLE	COMPRESS_BYTE_COUNT	383354
+SHUFFLE	COPY_MAP_DATA	78060000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1079338
+SHUFFLE	COMPRESS_BYTE_COUNT	365633
+SHUFFLE	COPY_MAP_DATA	33280000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1166836
+SHUFFLE	COMPRESS_BYTE_COUNT	386989
+SHUFFLE	COPY_MAP_DATA	32531000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1111513
+SHUFFLE	COMPRESS_BYTE_COUNT	375874
+SHUFFLE	COPY_MAP_DATA	58965000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1081777
+SHUFFLE	COMPRESS_BYTE_COUNT	365481
+SHUFFLE	COPY_MAP_DATA	136420000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1122381
+SHUFFLE	COMPRESS_BYTE_COUNT	380051
+SHUFFLE	COPY_MAP_DATA	92536000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	942554
+SHUFFLE	COMPRESS_BYTE_COUNT	315234
+SHUFFLE	COPY_MAP_DATA	53154000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1226536
+SHUFFLE	COMPRESS_BYTE_COUNT	410402
+SHUFFLE	COPY_MAP_DATA	2277758000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1091642
+SHUFFLE	COMPRESS_BYTE_COUNT	371199
+SHUFFLE	COPY_MAP_DATA	367706000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1076653
+SHUFFLE	COMPRESS_BYTE_COUNT	364139
+SHUFFLE	COPY_MAP_DATA	98045000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1100413
+SHUFFLE	COMPRESS_BYTE_COUNT	373133
+SHUFFLE	COPY_MAP_DATA	1326185000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1098580
+SHUFFLE	COMPRESS_BYTE_COUNT	371533
+SHUFFLE	COPY_MAP_DATA	20996000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1058785
+SHUFFLE	COMPRESS_BYTE_COUNT	357237
+SHUFFLE	COPY_MAP_DATA	20165000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	995415
+SHUFFLE	COMPRESS_BYTE_COUNT	335648
+SHUFFLE	COPY_MAP_DATA	19355000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1072372
+SHUFFLE	COMPRESS_BYTE_COUNT	363389
+SHUFFLE	COPY_MAP_DATA	62419000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1000061
+SHUFFLE	COMPRESS_BYTE_COUNT	337489
+SHUFFLE	COPY_MAP_DATA	19209000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1080059
+SHUFFLE	COMPRESS_BYTE_COUNT	366643
+SHUFFLE	COPY_MAP_DATA	25816000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1099837
+SHUFFLE	COMPRESS_BYTE_COUNT	373467
+SHUFFLE	COPY_MAP_DATA	19323000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	744746
+SHUFFLE	COMPRESS_BYTE_COUNT	267464
+SHUFFLE	COPY_MAP_DATA	40900000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	746605
+SHUFFLE	COMPRESS_BYTE_COUNT	270751
+SHUFFLE	COPY_MAP_DATA	16038000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	747014
+SHUFFLE	COMPRESS_BYTE_COUNT	271548
+SHUFFLE	COPY_MAP_DATA	413855000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	779482
+SHUFFLE	COMPRESS_BYTE_COUNT	283998
+SHUFFLE	COPY_MAP_DATA	1480581000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	788510
+SHUFFLE	COMPRESS_BYTE_COUNT	286708
+SHUFFLE	COPY_MAP_DATA	1037807000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	837280
+SHUFFLE	COMPRESS_BYTE_COUNT	292080
+SHUFFLE	COPY_MAP_DATA	17946000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	788561
+SHUFFLE	COMPRESS_BYTE_COUNT	286523
+SHUFFLE	COPY_MAP_DATA	17276000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	752719
+SHUFFLE	COMPRESS_BYTE_COUNT	270928
+SHUFFLE	COPY_MAP_DATA	3352208000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	778286
+SHUFFLE	COMPRESS_BYTE_COUNT	283356
+SHUFFLE	COPY_MAP_DATA	1235961000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	842881
+SHUFFLE	COMPRESS_BYTE_COUNT	291778
+SHUFFLE	COPY_MAP_DATA	1537483000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1016117
+SHUFFLE	COMPRESS_BYTE_COUNT	351766
+SHUFFLE	COPY_MAP_DATA	512535000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	744970
+SHUFFLE	COMPRESS_BYTE_COUNT	270728
+SHUFFLE	COPY_MAP_DATA	14346000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	705686
+SHUFFLE	COMPRESS_BYTE_COUNT	256923
+SHUFFLE	COPY_MAP_DATA	56246000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	765104
+SHUFFLE	COMPRESS_BYTE_COUNT	281374
+SHUFFLE	COPY_MAP_DATA	16266000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	848675
+SHUFFLE	COMPRESS_BYTE_COUNT	300301
+SHUFFLE	COPY_MAP_DATA	17124000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1022303
+SHUFFLE	COMPRESS_BYTE_COUNT	351014
+SHUFFLE	COPY_MAP_DATA	20290000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	734943
+SHUFFLE	COMPRESS_BYTE_COUNT	268592
+SHUFFLE	COPY_MAP_DATA	120075000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	738358
+SHUFFLE	COMPRESS_BYTE_COUNT	269276
+SHUFFLE	COPY_MAP_DATA	26106000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	735023
+SHUFFLE	COMPRESS_BYTE_COUNT	268417
+SHUFFLE	COPY_MAP_DATA	198960000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	764162
+SHUFFLE	COMPRESS_BYTE_COUNT	275711
+SHUFFLE	COPY_MAP_DATA	14908000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	770786
+SHUFFLE	COMPRESS_BYTE_COUNT	280851
+SHUFFLE	COPY_MAP_DATA	43878000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	959395
+SHUFFLE	COMPRESS_BYTE_COUNT	333409
+SHUFFLE	COPY_MAP_DATA	19394000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	728066
+SHUFFLE	COMPRESS_BYTE_COUNT	265044
+SHUFFLE	COPY_MAP_DATA	134870000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1102968
+SHUFFLE	COMPRESS_BYTE_COUNT	373863
+SHUFFLE	COPY_MAP_DATA	87800000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	750745
+SHUFFLE	COMPRESS_BYTE_COUNT	269943
+SHUFFLE	COPY_MAP_DATA	154746000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1097255
+SHUFFLE	COMPRESS_BYTE_COUNT	372700
+SHUFFLE	COPY_MAP_DATA	51323000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1098549
+SHUFFLE	COMPRESS_BYTE_COUNT	374178
+SHUFFLE	COPY_MAP_DATA	19711000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	957834
+SHUFFLE	COMPRESS_BYTE_COUNT	332865
+SHUFFLE	COPY_MAP_DATA	17574000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1135196
+SHUFFLE	COMPRESS_BYTE_COUNT	389841
+SHUFFLE	COPY_MAP_DATA	20832000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	216494
+SHUFFLE	COMPRESS_BYTE_COUNT	94991
+SHUFFLE	COPY_MAP_DATA	7806000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	709094
+SHUFFLE	COMPRESS_BYTE_COUNT	258939
+SHUFFLE	COPY_MAP_DATA	268097000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1106932
+SHUFFLE	COMPRESS_BYTE_COUNT	374973
+SHUFFLE	COPY_MAP_DATA	19937000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	750886
+SHUFFLE	COMPRESS_BYTE_COUNT	273424
+SHUFFLE	COPY_MAP_DATA	55782000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	305118
+SHUFFLE	COMPRESS_BYTE_COUNT	125111
+SHUFFLE	COPY_MAP_DATA	33150000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	235648
+SHUFFLE	COMPRESS_BYTE_COUNT	102233
+SHUFFLE	COPY_MAP_DATA	1215902000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	352963
+SHUFFLE	COMPRESS_BYTE_COUNT	141343
+SHUFFLE	COPY_MAP_DATA	10699000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	204836
+SHUFFLE	COMPRESS_BYTE_COUNT	89446
+SHUFFLE	COPY_MAP_DATA	7891000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	404382
+SHUFFLE	COMPRESS_BYTE_COUNT	159553
+SHUFFLE	COPY_MAP_DATA	23191000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	749471
+SHUFFLE	COMPRESS_BYTE_COUNT	272622
+SHUFFLE	COPY_MAP_DATA	157069000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	184477
+SHUFFLE	COMPRESS_BYTE_COUNT	80515
+SHUFFLE	COPY_MAP_DATA	8968000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	727817
+SHUFFLE	COMPRESS_BYTE_COUNT	266957
+SHUFFLE	COPY_MAP_DATA	15488000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	463825
+SHUFFLE	COMPRESS_BYTE_COUNT	179486
+SHUFFLE	COPY_MAP_DATA	11454000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	215429
+SHUFFLE	COMPRESS_BYTE_COUNT	91932
+SHUFFLE	COPY_MAP_DATA	6871000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	166919
+SHUFFLE	COMPRESS_BYTE_COUNT	73326
+SHUFFLE	COPY_MAP_DATA	5688000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	635184
+SHUFFLE	COMPRESS_BYTE_COUNT	235265
+SHUFFLE	COPY_MAP_DATA	13776000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	137074
+SHUFFLE	COMPRESS_BYTE_COUNT	60405
+SHUFFLE	COPY_MAP_DATA	4986000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	735625
+SHUFFLE	COMPRESS_BYTE_COUNT	268271
+SHUFFLE	COPY_MAP_DATA	16278000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	711798
+SHUFFLE	COMPRESS_BYTE_COUNT	259176
+SHUFFLE	COPY_MAP_DATA	13697000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	705374
+SHUFFLE	COMPRESS_BYTE_COUNT	256497
+SHUFFLE	COPY_MAP_DATA	15215000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	653357
+SHUFFLE	COMPRESS_BYTE_COUNT	238625
+SHUFFLE	COPY_MAP_DATA	14450000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	511857
+SHUFFLE	COMPRESS_BYTE_COUNT	197451
+SHUFFLE	COPY_MAP_DATA	12380000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	650613
+SHUFFLE	COMPRESS_BYTE_COUNT	238867
+SHUFFLE	COPY_MAP_DATA	13908000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	441348
+SHUFFLE	COMPRESS_BYTE_COUNT	171289
+SHUFFLE	COPY_MAP_DATA	10961000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	705762
+SHUFFLE	COMPRESS_BYTE_COUNT	258028
+SHUFFLE	COPY_MAP_DATA	15246000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	649183
+SHUFFLE	COMPRESS_BYTE_COUNT	240248
+SHUFFLE	COPY_MAP_DATA	30966000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	480290
+SHUFFLE	COMPRESS_BYTE_COUNT	185731
+SHUFFLE	COPY_MAP_DATA	17702000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	628561
+SHUFFLE	COMPRESS_BYTE_COUNT	235340
+SHUFFLE	COPY_MAP_DATA	13035000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	699168
+SHUFFLE	COMPRESS_BYTE_COUNT	256140
+SHUFFLE	COPY_MAP_DATA	14455000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	406953
+SHUFFLE	COMPRESS_BYTE_COUNT	159099
+SHUFFLE	COPY_MAP_DATA	10726000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	726880
+SHUFFLE	COMPRESS_BYTE_COUNT	264259
+SHUFFLE	COPY_MAP_DATA	15679000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	567323
+SHUFFLE	COMPRESS_BYTE_COUNT	218607
+SHUFFLE	COPY_MAP_DATA	268160000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	497091
+SHUFFLE	COMPRESS_BYTE_COUNT	192179
+SHUFFLE	COPY_MAP_DATA	11377000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	697775
+SHUFFLE	COMPRESS_BYTE_COUNT	256568
+SHUFFLE	COPY_MAP_DATA	15054000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	659660
+SHUFFLE	COMPRESS_BYTE_COUNT	243356
+SHUFFLE	COPY_MAP_DATA	12913000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	314387
+SHUFFLE	COMPRESS_BYTE_COUNT	111122
+SHUFFLE	COPY_MAP_DATA	8633000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	523146
+SHUFFLE	COMPRESS_BYTE_COUNT	203305
+SHUFFLE	COPY_MAP_DATA	34303000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	742659
+SHUFFLE	COMPRESS_BYTE_COUNT	268153
+SHUFFLE	COPY_MAP_DATA	23092000
+SHUFFLE	UNCOMPRESS	0
+SORT	MERGE_MAP_DATA	34135045000
+SORT	READ_WRITE	34043689000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	81189312
+REDUCE	SETUP	349000
+REDUCE	SETUP_MEM	81189312
+REDUCE	CLEANUP	29000
+REDUCE	CLEANUP_MEM	96587824
+REDUCE	TOTAL_RUN	15866564000
+REDUCE	READ	902895000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	9373240000
+REDUCE	WRITE	2523317000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	11640018
+REDUCE	VALUE_BYTE_COUNT	1192427
+REDUCE	REDUCE_MEM	96589872
+REDUCE	WRITE	56995000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	555013690000
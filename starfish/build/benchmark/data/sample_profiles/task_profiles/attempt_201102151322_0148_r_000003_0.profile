@@ -0,0 +1,410 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	795547
+SHUFFLE	COMPRESS_BYTE_COUNT	289140
+SHUFFLE	COPY_MAP_DATA	101887000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1122421
+SHUFFLE	COMPRESS_BYTE_COUNT	382550
+SHUFFLE	COPY_MAP_DATA	22947000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	986001
+SHUFFLE	COMPRESS_BYTE_COUNT	329463
+SHUFFLE	COPY_MAP_DATA	57189000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1117453
+SHUFFLE	COMPRESS_BYTE_COUNT	378646
+SHUFFLE	COPY_MAP_DATA	31055000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1123892
+SHUFFLE	COMPRESS_BYTE_COUNT	381701
+SHUFFLE	COPY_MAP_DATA	2393053000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1067246
+SHUFFLE	COMPRESS_BYTE_COUNT	364945
+SHUFFLE	COPY_MAP_DATA	787836000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	791662
+SHUFFLE	COMPRESS_BYTE_COUNT	288595
+SHUFFLE	COPY_MAP_DATA	16375000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1090012
+SHUFFLE	COMPRESS_BYTE_COUNT	367470
+SHUFFLE	COPY_MAP_DATA	82405000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1143816
+SHUFFLE	COMPRESS_BYTE_COUNT	386292
+SHUFFLE	COPY_MAP_DATA	30778000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1146407
+SHUFFLE	COMPRESS_BYTE_COUNT	387355
+SHUFFLE	COPY_MAP_DATA	483910000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1020370
+SHUFFLE	COMPRESS_BYTE_COUNT	350958
+SHUFFLE	COPY_MAP_DATA	20847000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1112806
+SHUFFLE	COMPRESS_BYTE_COUNT	376964
+SHUFFLE	COPY_MAP_DATA	90803000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1088780
+SHUFFLE	COMPRESS_BYTE_COUNT	367715
+SHUFFLE	COPY_MAP_DATA	78292000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1086180
+SHUFFLE	COMPRESS_BYTE_COUNT	366604
+SHUFFLE	COPY_MAP_DATA	2998379000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1118046
+SHUFFLE	COMPRESS_BYTE_COUNT	377028
+SHUFFLE	COPY_MAP_DATA	30315000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1117763
+SHUFFLE	COMPRESS_BYTE_COUNT	377922
+SHUFFLE	COPY_MAP_DATA	24892000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1176451
+SHUFFLE	COMPRESS_BYTE_COUNT	388938
+SHUFFLE	COPY_MAP_DATA	64493000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1130670
+SHUFFLE	COMPRESS_BYTE_COUNT	382922
+SHUFFLE	COPY_MAP_DATA	21183000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	945803
+SHUFFLE	COMPRESS_BYTE_COUNT	316514
+SHUFFLE	COPY_MAP_DATA	23033000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1230379
+SHUFFLE	COMPRESS_BYTE_COUNT	411055
+SHUFFLE	COPY_MAP_DATA	22660000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1100729
+SHUFFLE	COMPRESS_BYTE_COUNT	372618
+SHUFFLE	COPY_MAP_DATA	22385000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1076631
+SHUFFLE	COMPRESS_BYTE_COUNT	364019
+SHUFFLE	COPY_MAP_DATA	326222000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1109056
+SHUFFLE	COMPRESS_BYTE_COUNT	376302
+SHUFFLE	COPY_MAP_DATA	20806000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1099906
+SHUFFLE	COMPRESS_BYTE_COUNT	370709
+SHUFFLE	COPY_MAP_DATA	38338000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1011260
+SHUFFLE	COMPRESS_BYTE_COUNT	341330
+SHUFFLE	COPY_MAP_DATA	30560000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1060494
+SHUFFLE	COMPRESS_BYTE_COUNT	358372
+SHUFFLE	COPY_MAP_DATA	135269000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1004993
+SHUFFLE	COMPRESS_BYTE_COUNT	337905
+SHUFFLE	COPY_MAP_DATA	18237000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1083203
+SHUFFLE	COMPRESS_BYTE_COUNT	365314
+SHUFFLE	COPY_MAP_DATA	46064000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1086866
+SHUFFLE	COMPRESS_BYTE_COUNT	368075
+SHUFFLE	COPY_MAP_DATA	718985000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1119179
+SHUFFLE	COMPRESS_BYTE_COUNT	379582
+SHUFFLE	COPY_MAP_DATA	40458000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	751654
+SHUFFLE	COMPRESS_BYTE_COUNT	270414
+SHUFFLE	COPY_MAP_DATA	713423000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	753031
+SHUFFLE	COMPRESS_BYTE_COUNT	273374
+SHUFFLE	COPY_MAP_DATA	15371000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	757871
+SHUFFLE	COMPRESS_BYTE_COUNT	276339
+SHUFFLE	COPY_MAP_DATA	239383000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	773594
+SHUFFLE	COMPRESS_BYTE_COUNT	281652
+SHUFFLE	COPY_MAP_DATA	423596000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	845269
+SHUFFLE	COMPRESS_BYTE_COUNT	293941
+SHUFFLE	COPY_MAP_DATA	131119000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	787257
+SHUFFLE	COMPRESS_BYTE_COUNT	285398
+SHUFFLE	COPY_MAP_DATA	1578070000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	790378
+SHUFFLE	COMPRESS_BYTE_COUNT	286534
+SHUFFLE	COPY_MAP_DATA	17359000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	751187
+SHUFFLE	COMPRESS_BYTE_COUNT	268547
+SHUFFLE	COPY_MAP_DATA	34379000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	845598
+SHUFFLE	COMPRESS_BYTE_COUNT	291981
+SHUFFLE	COPY_MAP_DATA	25754000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1019658
+SHUFFLE	COMPRESS_BYTE_COUNT	352414
+SHUFFLE	COPY_MAP_DATA	271369000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	782581
+SHUFFLE	COMPRESS_BYTE_COUNT	284667
+SHUFFLE	COPY_MAP_DATA	167140000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	743564
+SHUFFLE	COMPRESS_BYTE_COUNT	270108
+SHUFFLE	COPY_MAP_DATA	14838000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	769036
+SHUFFLE	COMPRESS_BYTE_COUNT	282147
+SHUFFLE	COPY_MAP_DATA	60830000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	738350
+SHUFFLE	COMPRESS_BYTE_COUNT	268795
+SHUFFLE	COPY_MAP_DATA	14876000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	711855
+SHUFFLE	COMPRESS_BYTE_COUNT	258563
+SHUFFLE	COPY_MAP_DATA	589865000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1033221
+SHUFFLE	COMPRESS_BYTE_COUNT	354811
+SHUFFLE	COPY_MAP_DATA	107423000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	846960
+SHUFFLE	COMPRESS_BYTE_COUNT	299340
+SHUFFLE	COPY_MAP_DATA	16868000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	742737
+SHUFFLE	COMPRESS_BYTE_COUNT	271276
+SHUFFLE	COPY_MAP_DATA	48347000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	745771
+SHUFFLE	COMPRESS_BYTE_COUNT	271793
+SHUFFLE	COPY_MAP_DATA	15545000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	769775
+SHUFFLE	COMPRESS_BYTE_COUNT	279366
+SHUFFLE	COPY_MAP_DATA	21543000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	764921
+SHUFFLE	COMPRESS_BYTE_COUNT	275971
+SHUFFLE	COPY_MAP_DATA	15087000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	960667
+SHUFFLE	COMPRESS_BYTE_COUNT	332049
+SHUFFLE	COPY_MAP_DATA	1476263000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	739838
+SHUFFLE	COMPRESS_BYTE_COUNT	268977
+SHUFFLE	COPY_MAP_DATA	14815000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1108887
+SHUFFLE	COMPRESS_BYTE_COUNT	375427
+SHUFFLE	COPY_MAP_DATA	188166000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1114134
+SHUFFLE	COMPRESS_BYTE_COUNT	376706
+SHUFFLE	COPY_MAP_DATA	87007000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1109738
+SHUFFLE	COMPRESS_BYTE_COUNT	378620
+SHUFFLE	COPY_MAP_DATA	49513000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	756296
+SHUFFLE	COMPRESS_BYTE_COUNT	271209
+SHUFFLE	COPY_MAP_DATA	1164004000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	959811
+SHUFFLE	COMPRESS_BYTE_COUNT	333105
+SHUFFLE	COPY_MAP_DATA	18828000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1142549
+SHUFFLE	COMPRESS_BYTE_COUNT	390811
+SHUFFLE	COPY_MAP_DATA	20842000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	221461
+SHUFFLE	COMPRESS_BYTE_COUNT	96829
+SHUFFLE	COPY_MAP_DATA	7359000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	717525
+SHUFFLE	COMPRESS_BYTE_COUNT	260912
+SHUFFLE	COPY_MAP_DATA	4557590000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1118390
+SHUFFLE	COMPRESS_BYTE_COUNT	378017
+SHUFFLE	COPY_MAP_DATA	21717000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	754207
+SHUFFLE	COMPRESS_BYTE_COUNT	274267
+SHUFFLE	COPY_MAP_DATA	91161000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	308899
+SHUFFLE	COMPRESS_BYTE_COUNT	126765
+SHUFFLE	COPY_MAP_DATA	1987324000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	240230
+SHUFFLE	COMPRESS_BYTE_COUNT	103881
+SHUFFLE	COPY_MAP_DATA	178535000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	356978
+SHUFFLE	COMPRESS_BYTE_COUNT	142679
+SHUFFLE	COPY_MAP_DATA	10616000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	208659
+SHUFFLE	COMPRESS_BYTE_COUNT	90987
+SHUFFLE	COPY_MAP_DATA	137390000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	403749
+SHUFFLE	COMPRESS_BYTE_COUNT	159246
+SHUFFLE	COPY_MAP_DATA	55806000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	751020
+SHUFFLE	COMPRESS_BYTE_COUNT	273462
+SHUFFLE	COPY_MAP_DATA	23679000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	183434
+SHUFFLE	COMPRESS_BYTE_COUNT	79996
+SHUFFLE	COPY_MAP_DATA	124549000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	468828
+SHUFFLE	COMPRESS_BYTE_COUNT	181319
+SHUFFLE	COPY_MAP_DATA	11760000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	213773
+SHUFFLE	COMPRESS_BYTE_COUNT	91340
+SHUFFLE	COPY_MAP_DATA	17333000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	171204
+SHUFFLE	COMPRESS_BYTE_COUNT	74944
+SHUFFLE	COPY_MAP_DATA	5867000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	729145
+SHUFFLE	COMPRESS_BYTE_COUNT	266491
+SHUFFLE	COPY_MAP_DATA	13642000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	138894
+SHUFFLE	COMPRESS_BYTE_COUNT	60898
+SHUFFLE	COPY_MAP_DATA	5051000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	640356
+SHUFFLE	COMPRESS_BYTE_COUNT	235994
+SHUFFLE	COPY_MAP_DATA	23256000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	738264
+SHUFFLE	COMPRESS_BYTE_COUNT	268887
+SHUFFLE	COPY_MAP_DATA	32169000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	712341
+SHUFFLE	COMPRESS_BYTE_COUNT	259398
+SHUFFLE	COPY_MAP_DATA	14788000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	719881
+SHUFFLE	COMPRESS_BYTE_COUNT	262461
+SHUFFLE	COPY_MAP_DATA	14126000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	652838
+SHUFFLE	COMPRESS_BYTE_COUNT	238287
+SHUFFLE	COPY_MAP_DATA	14353000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	444710
+SHUFFLE	COMPRESS_BYTE_COUNT	171916
+SHUFFLE	COPY_MAP_DATA	30997000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	665657
+SHUFFLE	COMPRESS_BYTE_COUNT	243968
+SHUFFLE	COPY_MAP_DATA	14049000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	516790
+SHUFFLE	COMPRESS_BYTE_COUNT	199090
+SHUFFLE	COPY_MAP_DATA	11468000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	646793
+SHUFFLE	COMPRESS_BYTE_COUNT	239410
+SHUFFLE	COPY_MAP_DATA	13311000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	485331
+SHUFFLE	COMPRESS_BYTE_COUNT	188106
+SHUFFLE	COPY_MAP_DATA	11012000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	706828
+SHUFFLE	COMPRESS_BYTE_COUNT	258366
+SHUFFLE	COPY_MAP_DATA	14919000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	634367
+SHUFFLE	COMPRESS_BYTE_COUNT	237478
+SHUFFLE	COPY_MAP_DATA	12961000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	723489
+SHUFFLE	COMPRESS_BYTE_COUNT	263626
+SHUFFLE	COPY_MAP_DATA	39093000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	405558
+SHUFFLE	COMPRESS_BYTE_COUNT	158655
+SHUFFLE	COPY_MAP_DATA	10495000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	698458
+SHUFFLE	COMPRESS_BYTE_COUNT	254633
+SHUFFLE	COPY_MAP_DATA	14204000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	568831
+SHUFFLE	COMPRESS_BYTE_COUNT	219109
+SHUFFLE	COPY_MAP_DATA	12556000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	501486
+SHUFFLE	COMPRESS_BYTE_COUNT	193545
+SHUFFLE	COPY_MAP_DATA	12072000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	315755
+SHUFFLE	COMPRESS_BYTE_COUNT	111443
+SHUFFLE	COPY_MAP_DATA	18197000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	694604
+SHUFFLE	COMPRESS_BYTE_COUNT	255159
+SHUFFLE	COPY_MAP_DATA	13994000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	662861
+SHUFFLE	COMPRESS_BYTE_COUNT	244089
+SHUFFLE	COPY_MAP_DATA	12761000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	528328
+SHUFFLE	COMPRESS_BYTE_COUNT	204744
+SHUFFLE	COPY_MAP_DATA	22047000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	740970
+SHUFFLE	COMPRESS_BYTE_COUNT	267806
+SHUFFLE	COPY_MAP_DATA	16127000
+SHUFFLE	UNCOMPRESS	0
+SORT	MERGE_MAP_DATA	34616325000
+SORT	READ_WRITE	34534320000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	98490904
+REDUCE	SETUP	339000
+REDUCE	SETUP_MEM	98490904
+REDUCE	CLEANUP	25000
+REDUCE	CLEANUP_MEM	91297472
+REDUCE	TOTAL_RUN	16236815000
+REDUCE	READ	928339000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	9652628000
+REDUCE	WRITE	2705022000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	11639447
+REDUCE	VALUE_BYTE_COUNT	1192620
+REDUCE	REDUCE_MEM	91297472
+REDUCE	WRITE	13495000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	560943796000
@@ -0,0 +1,410 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1123707
+SHUFFLE	COMPRESS_BYTE_COUNT	381718
+SHUFFLE	COPY_MAP_DATA	226489000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1016511
+SHUFFLE	COMPRESS_BYTE_COUNT	348728
+SHUFFLE	COPY_MAP_DATA	44392000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1065582
+SHUFFLE	COMPRESS_BYTE_COUNT	365129
+SHUFFLE	COPY_MAP_DATA	5444975000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1112936
+SHUFFLE	COMPRESS_BYTE_COUNT	375241
+SHUFFLE	COPY_MAP_DATA	22838000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	793301
+SHUFFLE	COMPRESS_BYTE_COUNT	288479
+SHUFFLE	COPY_MAP_DATA	17414000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1117421
+SHUFFLE	COMPRESS_BYTE_COUNT	376681
+SHUFFLE	COPY_MAP_DATA	63743000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1123615
+SHUFFLE	COMPRESS_BYTE_COUNT	382112
+SHUFFLE	COPY_MAP_DATA	58023000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	991723
+SHUFFLE	COMPRESS_BYTE_COUNT	331667
+SHUFFLE	COPY_MAP_DATA	32802000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1082385
+SHUFFLE	COMPRESS_BYTE_COUNT	365369
+SHUFFLE	COPY_MAP_DATA	105930000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1091300
+SHUFFLE	COMPRESS_BYTE_COUNT	368576
+SHUFFLE	COPY_MAP_DATA	39265000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1114760
+SHUFFLE	COMPRESS_BYTE_COUNT	376318
+SHUFFLE	COPY_MAP_DATA	24512000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1135789
+SHUFFLE	COMPRESS_BYTE_COUNT	383610
+SHUFFLE	COPY_MAP_DATA	58290000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	794820
+SHUFFLE	COMPRESS_BYTE_COUNT	289581
+SHUFFLE	COPY_MAP_DATA	1497285000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1111056
+SHUFFLE	COMPRESS_BYTE_COUNT	374890
+SHUFFLE	COPY_MAP_DATA	55910000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1098133
+SHUFFLE	COMPRESS_BYTE_COUNT	370951
+SHUFFLE	COPY_MAP_DATA	61348000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1164216
+SHUFFLE	COMPRESS_BYTE_COUNT	386197
+SHUFFLE	COPY_MAP_DATA	147440000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1145252
+SHUFFLE	COMPRESS_BYTE_COUNT	387915
+SHUFFLE	COPY_MAP_DATA	21319000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1129977
+SHUFFLE	COMPRESS_BYTE_COUNT	382201
+SHUFFLE	COPY_MAP_DATA	146422000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	944576
+SHUFFLE	COMPRESS_BYTE_COUNT	316082
+SHUFFLE	COPY_MAP_DATA	18893000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1092435
+SHUFFLE	COMPRESS_BYTE_COUNT	369583
+SHUFFLE	COPY_MAP_DATA	56007000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1236144
+SHUFFLE	COMPRESS_BYTE_COUNT	412669
+SHUFFLE	COPY_MAP_DATA	737022000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1079517
+SHUFFLE	COMPRESS_BYTE_COUNT	364614
+SHUFFLE	COPY_MAP_DATA	38267000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1104056
+SHUFFLE	COMPRESS_BYTE_COUNT	372147
+SHUFFLE	COPY_MAP_DATA	87211000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1109212
+SHUFFLE	COMPRESS_BYTE_COUNT	376118
+SHUFFLE	COPY_MAP_DATA	21576000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1012782
+SHUFFLE	COMPRESS_BYTE_COUNT	341822
+SHUFFLE	COPY_MAP_DATA	71259000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1064589
+SHUFFLE	COMPRESS_BYTE_COUNT	359234
+SHUFFLE	COPY_MAP_DATA	19630000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1082748
+SHUFFLE	COMPRESS_BYTE_COUNT	364737
+SHUFFLE	COPY_MAP_DATA	22881000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	998027
+SHUFFLE	COMPRESS_BYTE_COUNT	335814
+SHUFFLE	COPY_MAP_DATA	220676000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1088945
+SHUFFLE	COMPRESS_BYTE_COUNT	368382
+SHUFFLE	COPY_MAP_DATA	26778000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1112974
+SHUFFLE	COMPRESS_BYTE_COUNT	377383
+SHUFFLE	COPY_MAP_DATA	19861000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	747694
+SHUFFLE	COMPRESS_BYTE_COUNT	269399
+SHUFFLE	COPY_MAP_DATA	114366000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	753101
+SHUFFLE	COMPRESS_BYTE_COUNT	273989
+SHUFFLE	COPY_MAP_DATA	65130000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	749348
+SHUFFLE	COMPRESS_BYTE_COUNT	271418
+SHUFFLE	COPY_MAP_DATA	276600000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	778678
+SHUFFLE	COMPRESS_BYTE_COUNT	284545
+SHUFFLE	COPY_MAP_DATA	1416922000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	842310
+SHUFFLE	COMPRESS_BYTE_COUNT	293189
+SHUFFLE	COPY_MAP_DATA	75044000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	786057
+SHUFFLE	COMPRESS_BYTE_COUNT	284069
+SHUFFLE	COPY_MAP_DATA	32432000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	787106
+SHUFFLE	COMPRESS_BYTE_COUNT	284975
+SHUFFLE	COPY_MAP_DATA	41852000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	755315
+SHUFFLE	COMPRESS_BYTE_COUNT	270412
+SHUFFLE	COPY_MAP_DATA	399713000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	777914
+SHUFFLE	COMPRESS_BYTE_COUNT	282314
+SHUFFLE	COPY_MAP_DATA	17533000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	848286
+SHUFFLE	COMPRESS_BYTE_COUNT	292101
+SHUFFLE	COPY_MAP_DATA	18675000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1018127
+SHUFFLE	COMPRESS_BYTE_COUNT	352248
+SHUFFLE	COPY_MAP_DATA	19490000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	743978
+SHUFFLE	COMPRESS_BYTE_COUNT	269863
+SHUFFLE	COPY_MAP_DATA	14578000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	775190
+SHUFFLE	COMPRESS_BYTE_COUNT	283639
+SHUFFLE	COPY_MAP_DATA	56360000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	704521
+SHUFFLE	COMPRESS_BYTE_COUNT	256576
+SHUFFLE	COPY_MAP_DATA	80383000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	742425
+SHUFFLE	COMPRESS_BYTE_COUNT	270010
+SHUFFLE	COPY_MAP_DATA	14428000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1038244
+SHUFFLE	COMPRESS_BYTE_COUNT	355330
+SHUFFLE	COPY_MAP_DATA	20576000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	845195
+SHUFFLE	COMPRESS_BYTE_COUNT	299119
+SHUFFLE	COPY_MAP_DATA	25557000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	745896
+SHUFFLE	COMPRESS_BYTE_COUNT	271857
+SHUFFLE	COPY_MAP_DATA	84054000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	744096
+SHUFFLE	COMPRESS_BYTE_COUNT	271606
+SHUFFLE	COPY_MAP_DATA	14808000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	765796
+SHUFFLE	COMPRESS_BYTE_COUNT	276506
+SHUFFLE	COPY_MAP_DATA	26947000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	767441
+SHUFFLE	COMPRESS_BYTE_COUNT	278534
+SHUFFLE	COPY_MAP_DATA	178805000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	968744
+SHUFFLE	COMPRESS_BYTE_COUNT	335127
+SHUFFLE	COPY_MAP_DATA	247495000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1117635
+SHUFFLE	COMPRESS_BYTE_COUNT	377614
+SHUFFLE	COPY_MAP_DATA	44849000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1106138
+SHUFFLE	COMPRESS_BYTE_COUNT	374368
+SHUFFLE	COPY_MAP_DATA	63465000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	735369
+SHUFFLE	COMPRESS_BYTE_COUNT	267644
+SHUFFLE	COPY_MAP_DATA	16356000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	749716
+SHUFFLE	COMPRESS_BYTE_COUNT	269278
+SHUFFLE	COPY_MAP_DATA	15764000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1104486
+SHUFFLE	COMPRESS_BYTE_COUNT	375671
+SHUFFLE	COPY_MAP_DATA	51559000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	954843
+SHUFFLE	COMPRESS_BYTE_COUNT	331735
+SHUFFLE	COPY_MAP_DATA	44527000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	220197
+SHUFFLE	COMPRESS_BYTE_COUNT	96452
+SHUFFLE	COPY_MAP_DATA	285396000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1146642
+SHUFFLE	COMPRESS_BYTE_COUNT	391933
+SHUFFLE	COPY_MAP_DATA	21803000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	710263
+SHUFFLE	COMPRESS_BYTE_COUNT	258783
+SHUFFLE	COPY_MAP_DATA	1800450000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1109752
+SHUFFLE	COMPRESS_BYTE_COUNT	375158
+SHUFFLE	COPY_MAP_DATA	36693000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	755298
+SHUFFLE	COMPRESS_BYTE_COUNT	275678
+SHUFFLE	COPY_MAP_DATA	42709000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	307105
+SHUFFLE	COMPRESS_BYTE_COUNT	125776
+SHUFFLE	COPY_MAP_DATA	18704000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	240121
+SHUFFLE	COMPRESS_BYTE_COUNT	103380
+SHUFFLE	COPY_MAP_DATA	8337000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	355001
+SHUFFLE	COMPRESS_BYTE_COUNT	141927
+SHUFFLE	COPY_MAP_DATA	9833000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	206177
+SHUFFLE	COMPRESS_BYTE_COUNT	89732
+SHUFFLE	COPY_MAP_DATA	8310000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	407816
+SHUFFLE	COMPRESS_BYTE_COUNT	160597
+SHUFFLE	COPY_MAP_DATA	9683000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	747620
+SHUFFLE	COMPRESS_BYTE_COUNT	272081
+SHUFFLE	COPY_MAP_DATA	95539000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	184799
+SHUFFLE	COMPRESS_BYTE_COUNT	80040
+SHUFFLE	COPY_MAP_DATA	164859000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	733017
+SHUFFLE	COMPRESS_BYTE_COUNT	267227
+SHUFFLE	COPY_MAP_DATA	254241000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	469809
+SHUFFLE	COMPRESS_BYTE_COUNT	182221
+SHUFFLE	COPY_MAP_DATA	25531000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	639596
+SHUFFLE	COMPRESS_BYTE_COUNT	235891
+SHUFFLE	COPY_MAP_DATA	13489000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	215895
+SHUFFLE	COMPRESS_BYTE_COUNT	92487
+SHUFFLE	COPY_MAP_DATA	7208000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	168365
+SHUFFLE	COMPRESS_BYTE_COUNT	73707
+SHUFFLE	COPY_MAP_DATA	5496000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	138628
+SHUFFLE	COMPRESS_BYTE_COUNT	60734
+SHUFFLE	COPY_MAP_DATA	4414000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	736933
+SHUFFLE	COMPRESS_BYTE_COUNT	268570
+SHUFFLE	COPY_MAP_DATA	34099000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	715288
+SHUFFLE	COMPRESS_BYTE_COUNT	260672
+SHUFFLE	COPY_MAP_DATA	14155000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	656889
+SHUFFLE	COMPRESS_BYTE_COUNT	240007
+SHUFFLE	COPY_MAP_DATA	14656000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	716196
+SHUFFLE	COMPRESS_BYTE_COUNT	260379
+SHUFFLE	COPY_MAP_DATA	15025000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	657549
+SHUFFLE	COMPRESS_BYTE_COUNT	240675
+SHUFFLE	COPY_MAP_DATA	14102000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	711829
+SHUFFLE	COMPRESS_BYTE_COUNT	260372
+SHUFFLE	COPY_MAP_DATA	23016000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	508594
+SHUFFLE	COMPRESS_BYTE_COUNT	195689
+SHUFFLE	COPY_MAP_DATA	11552000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	444041
+SHUFFLE	COMPRESS_BYTE_COUNT	171516
+SHUFFLE	COPY_MAP_DATA	10742000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	651810
+SHUFFLE	COMPRESS_BYTE_COUNT	240215
+SHUFFLE	COPY_MAP_DATA	13787000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	695253
+SHUFFLE	COMPRESS_BYTE_COUNT	253013
+SHUFFLE	COPY_MAP_DATA	14657000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	637352
+SHUFFLE	COMPRESS_BYTE_COUNT	238537
+SHUFFLE	COPY_MAP_DATA	13885000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	407886
+SHUFFLE	COMPRESS_BYTE_COUNT	159544
+SHUFFLE	COPY_MAP_DATA	11358000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	482238
+SHUFFLE	COMPRESS_BYTE_COUNT	186283
+SHUFFLE	COPY_MAP_DATA	11201000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	725815
+SHUFFLE	COMPRESS_BYTE_COUNT	264150
+SHUFFLE	COPY_MAP_DATA	25470000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	575869
+SHUFFLE	COMPRESS_BYTE_COUNT	220952
+SHUFFLE	COPY_MAP_DATA	13915000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	504425
+SHUFFLE	COMPRESS_BYTE_COUNT	194283
+SHUFFLE	COPY_MAP_DATA	103645000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	696906
+SHUFFLE	COMPRESS_BYTE_COUNT	254901
+SHUFFLE	COPY_MAP_DATA	15488000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	659425
+SHUFFLE	COMPRESS_BYTE_COUNT	242490
+SHUFFLE	COPY_MAP_DATA	13100000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	313795
+SHUFFLE	COMPRESS_BYTE_COUNT	111437
+SHUFFLE	COPY_MAP_DATA	8238000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	523647
+SHUFFLE	COMPRESS_BYTE_COUNT	202432
+SHUFFLE	COPY_MAP_DATA	11392000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	741816
+SHUFFLE	COMPRESS_BYTE_COUNT	266861
+SHUFFLE	COPY_MAP_DATA	232080000
+SHUFFLE	UNCOMPRESS	0
+SORT	MERGE_MAP_DATA	34838631794
+SORT	READ_WRITE	34760471794
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	82138400
+REDUCE	SETUP	349000
+REDUCE	SETUP_MEM	82138400
+REDUCE	CLEANUP	27000
+REDUCE	CLEANUP_MEM	82797384
+REDUCE	TOTAL_RUN	18252428000
+REDUCE	READ	634135000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	10302780000
+REDUCE	WRITE	2823716000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	11667549
+REDUCE	VALUE_BYTE_COUNT	1194540
+REDUCE	REDUCE_MEM	82797384
+REDUCE	WRITE	92475000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	553886612502
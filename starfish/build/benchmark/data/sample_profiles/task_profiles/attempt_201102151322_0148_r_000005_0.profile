@@ -0,0 +1,410 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1023453
+SHUFFLE	COMPRESS_BYTE_COUNT	350744
+SHUFFLE	COPY_MAP_DATA	1168802000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1130806
+SHUFFLE	COMPRESS_BYTE_COUNT	383211
+SHUFFLE	COPY_MAP_DATA	122129000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1092027
+SHUFFLE	COMPRESS_BYTE_COUNT	367773
+SHUFFLE	COPY_MAP_DATA	122801000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	804303
+SHUFFLE	COMPRESS_BYTE_COUNT	290581
+SHUFFLE	COPY_MAP_DATA	20369000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1004911
+SHUFFLE	COMPRESS_BYTE_COUNT	335325
+SHUFFLE	COPY_MAP_DATA	40503000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1123087
+SHUFFLE	COMPRESS_BYTE_COUNT	381551
+SHUFFLE	COPY_MAP_DATA	22417000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1073248
+SHUFFLE	COMPRESS_BYTE_COUNT	367503
+SHUFFLE	COPY_MAP_DATA	3579856000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1125625
+SHUFFLE	COMPRESS_BYTE_COUNT	377902
+SHUFFLE	COPY_MAP_DATA	25346000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1125983
+SHUFFLE	COMPRESS_BYTE_COUNT	379760
+SHUFFLE	COPY_MAP_DATA	21977000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	796973
+SHUFFLE	COMPRESS_BYTE_COUNT	289944
+SHUFFLE	COPY_MAP_DATA	52441000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1159052
+SHUFFLE	COMPRESS_BYTE_COUNT	390966
+SHUFFLE	COPY_MAP_DATA	31909000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1100893
+SHUFFLE	COMPRESS_BYTE_COUNT	372495
+SHUFFLE	COPY_MAP_DATA	29856000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1182798
+SHUFFLE	COMPRESS_BYTE_COUNT	391541
+SHUFFLE	COPY_MAP_DATA	41655000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1143065
+SHUFFLE	COMPRESS_BYTE_COUNT	385811
+SHUFFLE	COPY_MAP_DATA	72519000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1125719
+SHUFFLE	COMPRESS_BYTE_COUNT	380702
+SHUFFLE	COPY_MAP_DATA	22650000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1097490
+SHUFFLE	COMPRESS_BYTE_COUNT	369601
+SHUFFLE	COPY_MAP_DATA	30913000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1124288
+SHUFFLE	COMPRESS_BYTE_COUNT	380266
+SHUFFLE	COPY_MAP_DATA	24557000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1134870
+SHUFFLE	COMPRESS_BYTE_COUNT	382706
+SHUFFLE	COPY_MAP_DATA	209407000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	947717
+SHUFFLE	COMPRESS_BYTE_COUNT	316387
+SHUFFLE	COPY_MAP_DATA	3070720000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1109735
+SHUFFLE	COMPRESS_BYTE_COUNT	376136
+SHUFFLE	COPY_MAP_DATA	65242000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1248199
+SHUFFLE	COMPRESS_BYTE_COUNT	415093
+SHUFFLE	COPY_MAP_DATA	219408000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1087428
+SHUFFLE	COMPRESS_BYTE_COUNT	366466
+SHUFFLE	COPY_MAP_DATA	19494000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1009265
+SHUFFLE	COMPRESS_BYTE_COUNT	338415
+SHUFFLE	COPY_MAP_DATA	19031000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1113386
+SHUFFLE	COMPRESS_BYTE_COUNT	375738
+SHUFFLE	COPY_MAP_DATA	71020000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1113306
+SHUFFLE	COMPRESS_BYTE_COUNT	375439
+SHUFFLE	COPY_MAP_DATA	20446000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1067763
+SHUFFLE	COMPRESS_BYTE_COUNT	358692
+SHUFFLE	COPY_MAP_DATA	19358000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1093657
+SHUFFLE	COMPRESS_BYTE_COUNT	368634
+SHUFFLE	COPY_MAP_DATA	35645000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1014318
+SHUFFLE	COMPRESS_BYTE_COUNT	340686
+SHUFFLE	COPY_MAP_DATA	18325000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1099112
+SHUFFLE	COMPRESS_BYTE_COUNT	371863
+SHUFFLE	COPY_MAP_DATA	1394570000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1118460
+SHUFFLE	COMPRESS_BYTE_COUNT	379939
+SHUFFLE	COPY_MAP_DATA	19543000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	756010
+SHUFFLE	COMPRESS_BYTE_COUNT	270969
+SHUFFLE	COPY_MAP_DATA	99640000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	763470
+SHUFFLE	COMPRESS_BYTE_COUNT	277458
+SHUFFLE	COPY_MAP_DATA	17886000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	765512
+SHUFFLE	COMPRESS_BYTE_COUNT	276790
+SHUFFLE	COPY_MAP_DATA	1082661000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	782301
+SHUFFLE	COMPRESS_BYTE_COUNT	284419
+SHUFFLE	COPY_MAP_DATA	107384000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	850785
+SHUFFLE	COMPRESS_BYTE_COUNT	295565
+SHUFFLE	COPY_MAP_DATA	140652000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	795800
+SHUFFLE	COMPRESS_BYTE_COUNT	287427
+SHUFFLE	COPY_MAP_DATA	190895000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	797947
+SHUFFLE	COMPRESS_BYTE_COUNT	289117
+SHUFFLE	COPY_MAP_DATA	41612000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	755625
+SHUFFLE	COMPRESS_BYTE_COUNT	271024
+SHUFFLE	COPY_MAP_DATA	69234000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	856933
+SHUFFLE	COMPRESS_BYTE_COUNT	295080
+SHUFFLE	COPY_MAP_DATA	156381000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1019117
+SHUFFLE	COMPRESS_BYTE_COUNT	351390
+SHUFFLE	COPY_MAP_DATA	399393000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	784321
+SHUFFLE	COMPRESS_BYTE_COUNT	284624
+SHUFFLE	COPY_MAP_DATA	16445000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	754411
+SHUFFLE	COMPRESS_BYTE_COUNT	272591
+SHUFFLE	COPY_MAP_DATA	14541000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1036950
+SHUFFLE	COMPRESS_BYTE_COUNT	356377
+SHUFFLE	COPY_MAP_DATA	991215000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	779879
+SHUFFLE	COMPRESS_BYTE_COUNT	285011
+SHUFFLE	COPY_MAP_DATA	216926000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	712514
+SHUFFLE	COMPRESS_BYTE_COUNT	259177
+SHUFFLE	COPY_MAP_DATA	15943000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	743925
+SHUFFLE	COMPRESS_BYTE_COUNT	270138
+SHUFFLE	COPY_MAP_DATA	14564000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	854892
+SHUFFLE	COMPRESS_BYTE_COUNT	301332
+SHUFFLE	COPY_MAP_DATA	8881187000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	749657
+SHUFFLE	COMPRESS_BYTE_COUNT	271692
+SHUFFLE	COPY_MAP_DATA	39343000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	747753
+SHUFFLE	COMPRESS_BYTE_COUNT	271563
+SHUFFLE	COPY_MAP_DATA	23283000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	775609
+SHUFFLE	COMPRESS_BYTE_COUNT	281396
+SHUFFLE	COPY_MAP_DATA	15890000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	778192
+SHUFFLE	COMPRESS_BYTE_COUNT	280167
+SHUFFLE	COPY_MAP_DATA	39797000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	972002
+SHUFFLE	COMPRESS_BYTE_COUNT	336358
+SHUFFLE	COPY_MAP_DATA	1764263000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1125073
+SHUFFLE	COMPRESS_BYTE_COUNT	380199
+SHUFFLE	COPY_MAP_DATA	21820000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	747622
+SHUFFLE	COMPRESS_BYTE_COUNT	270611
+SHUFFLE	COPY_MAP_DATA	109308000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1117583
+SHUFFLE	COMPRESS_BYTE_COUNT	377961
+SHUFFLE	COPY_MAP_DATA	121472000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1111438
+SHUFFLE	COMPRESS_BYTE_COUNT	377971
+SHUFFLE	COPY_MAP_DATA	42542000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	764207
+SHUFFLE	COMPRESS_BYTE_COUNT	273054
+SHUFFLE	COPY_MAP_DATA	38174000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	960671
+SHUFFLE	COMPRESS_BYTE_COUNT	331477
+SHUFFLE	COPY_MAP_DATA	19011000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1158116
+SHUFFLE	COMPRESS_BYTE_COUNT	394724
+SHUFFLE	COPY_MAP_DATA	66010000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	222147
+SHUFFLE	COMPRESS_BYTE_COUNT	97146
+SHUFFLE	COPY_MAP_DATA	3633182000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1117832
+SHUFFLE	COMPRESS_BYTE_COUNT	377684
+SHUFFLE	COPY_MAP_DATA	1486074000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	722430
+SHUFFLE	COMPRESS_BYTE_COUNT	263393
+SHUFFLE	COPY_MAP_DATA	321594000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	761294
+SHUFFLE	COMPRESS_BYTE_COUNT	276077
+SHUFFLE	COPY_MAP_DATA	671491000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	308100
+SHUFFLE	COMPRESS_BYTE_COUNT	125974
+SHUFFLE	COPY_MAP_DATA	8810000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	244905
+SHUFFLE	COMPRESS_BYTE_COUNT	106308
+SHUFFLE	COPY_MAP_DATA	8535000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	355618
+SHUFFLE	COMPRESS_BYTE_COUNT	141759
+SHUFFLE	COPY_MAP_DATA	10186000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	405386
+SHUFFLE	COMPRESS_BYTE_COUNT	159634
+SHUFFLE	COPY_MAP_DATA	10620000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	207161
+SHUFFLE	COMPRESS_BYTE_COUNT	90025
+SHUFFLE	COPY_MAP_DATA	47839000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	758025
+SHUFFLE	COMPRESS_BYTE_COUNT	275288
+SHUFFLE	COPY_MAP_DATA	960506000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	184290
+SHUFFLE	COMPRESS_BYTE_COUNT	80333
+SHUFFLE	COPY_MAP_DATA	183356000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	467765
+SHUFFLE	COMPRESS_BYTE_COUNT	180890
+SHUFFLE	COPY_MAP_DATA	2087400000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	737249
+SHUFFLE	COMPRESS_BYTE_COUNT	269494
+SHUFFLE	COPY_MAP_DATA	1834225000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	170009
+SHUFFLE	COMPRESS_BYTE_COUNT	74296
+SHUFFLE	COPY_MAP_DATA	191242000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	218003
+SHUFFLE	COMPRESS_BYTE_COUNT	92985
+SHUFFLE	COPY_MAP_DATA	6962000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	642525
+SHUFFLE	COMPRESS_BYTE_COUNT	237330
+SHUFFLE	COPY_MAP_DATA	13115000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	140628
+SHUFFLE	COMPRESS_BYTE_COUNT	61844
+SHUFFLE	COPY_MAP_DATA	3933000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	746094
+SHUFFLE	COMPRESS_BYTE_COUNT	271030
+SHUFFLE	COPY_MAP_DATA	15357000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	724113
+SHUFFLE	COMPRESS_BYTE_COUNT	264503
+SHUFFLE	COPY_MAP_DATA	13550000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	720659
+SHUFFLE	COMPRESS_BYTE_COUNT	262896
+SHUFFLE	COPY_MAP_DATA	15188000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	653676
+SHUFFLE	COMPRESS_BYTE_COUNT	237729
+SHUFFLE	COPY_MAP_DATA	13377000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	519581
+SHUFFLE	COMPRESS_BYTE_COUNT	199493
+SHUFFLE	COPY_MAP_DATA	12047000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	446657
+SHUFFLE	COMPRESS_BYTE_COUNT	171735
+SHUFFLE	COPY_MAP_DATA	11293000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	669446
+SHUFFLE	COMPRESS_BYTE_COUNT	244963
+SHUFFLE	COPY_MAP_DATA	22935000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	489407
+SHUFFLE	COMPRESS_BYTE_COUNT	189570
+SHUFFLE	COPY_MAP_DATA	11639000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	643355
+SHUFFLE	COMPRESS_BYTE_COUNT	240339
+SHUFFLE	COPY_MAP_DATA	45529000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	654272
+SHUFFLE	COMPRESS_BYTE_COUNT	240897
+SHUFFLE	COPY_MAP_DATA	13298000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	715972
+SHUFFLE	COMPRESS_BYTE_COUNT	260648
+SHUFFLE	COPY_MAP_DATA	14864000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	735155
+SHUFFLE	COMPRESS_BYTE_COUNT	266321
+SHUFFLE	COPY_MAP_DATA	743412000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	409700
+SHUFFLE	COMPRESS_BYTE_COUNT	159898
+SHUFFLE	COPY_MAP_DATA	126366000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	708954
+SHUFFLE	COMPRESS_BYTE_COUNT	258508
+SHUFFLE	COPY_MAP_DATA	17090000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	580755
+SHUFFLE	COMPRESS_BYTE_COUNT	222117
+SHUFFLE	COPY_MAP_DATA	13178000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	316744
+SHUFFLE	COMPRESS_BYTE_COUNT	112304
+SHUFFLE	COPY_MAP_DATA	329851000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	698184
+SHUFFLE	COMPRESS_BYTE_COUNT	255002
+SHUFFLE	COPY_MAP_DATA	212050000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	508807
+SHUFFLE	COMPRESS_BYTE_COUNT	195875
+SHUFFLE	COPY_MAP_DATA	57552000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	668543
+SHUFFLE	COMPRESS_BYTE_COUNT	245725
+SHUFFLE	COPY_MAP_DATA	13265000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	530668
+SHUFFLE	COMPRESS_BYTE_COUNT	205103
+SHUFFLE	COPY_MAP_DATA	452979000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	746462
+SHUFFLE	COMPRESS_BYTE_COUNT	268855
+SHUFFLE	COPY_MAP_DATA	69604000
+SHUFFLE	UNCOMPRESS	0
+SORT	MERGE_MAP_DATA	35114338000
+SORT	READ_WRITE	35031245000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	89315992
+REDUCE	SETUP	337000
+REDUCE	SETUP_MEM	89315992
+REDUCE	CLEANUP	26000
+REDUCE	CLEANUP_MEM	100617824
+REDUCE	TOTAL_RUN	15970890000
+REDUCE	READ	863631000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	9674071000
+REDUCE	WRITE	2795075000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	11649606
+REDUCE	VALUE_BYTE_COUNT	1194214
+REDUCE	REDUCE_MEM	100617824
+REDUCE	WRITE	14824000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	549948294000
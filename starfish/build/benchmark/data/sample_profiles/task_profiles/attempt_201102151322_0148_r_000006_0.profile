@@ -0,0 +1,410 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1128663
+SHUFFLE	COMPRESS_BYTE_COUNT	383165
+SHUFFLE	COPY_MAP_DATA	44113000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	799835
+SHUFFLE	COMPRESS_BYTE_COUNT	290007
+SHUFFLE	COPY_MAP_DATA	17064000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1126932
+SHUFFLE	COMPRESS_BYTE_COUNT	382311
+SHUFFLE	COPY_MAP_DATA	22253000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1119885
+SHUFFLE	COMPRESS_BYTE_COUNT	377936
+SHUFFLE	COPY_MAP_DATA	30431000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1002853
+SHUFFLE	COMPRESS_BYTE_COUNT	334521
+SHUFFLE	COPY_MAP_DATA	64160000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1073637
+SHUFFLE	COMPRESS_BYTE_COUNT	368145
+SHUFFLE	COPY_MAP_DATA	1416187000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	792634
+SHUFFLE	COMPRESS_BYTE_COUNT	289073
+SHUFFLE	COPY_MAP_DATA	18089000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1102305
+SHUFFLE	COMPRESS_BYTE_COUNT	372519
+SHUFFLE	COPY_MAP_DATA	28127000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1152336
+SHUFFLE	COMPRESS_BYTE_COUNT	389347
+SHUFFLE	COPY_MAP_DATA	128495000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1131818
+SHUFFLE	COMPRESS_BYTE_COUNT	382635
+SHUFFLE	COPY_MAP_DATA	54757000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1120119
+SHUFFLE	COMPRESS_BYTE_COUNT	376906
+SHUFFLE	COPY_MAP_DATA	119908000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1093975
+SHUFFLE	COMPRESS_BYTE_COUNT	368643
+SHUFFLE	COPY_MAP_DATA	367304000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1144690
+SHUFFLE	COMPRESS_BYTE_COUNT	387256
+SHUFFLE	COPY_MAP_DATA	366407000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1024917
+SHUFFLE	COMPRESS_BYTE_COUNT	352229
+SHUFFLE	COPY_MAP_DATA	26221000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1126414
+SHUFFLE	COMPRESS_BYTE_COUNT	381107
+SHUFFLE	COPY_MAP_DATA	40623000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1094945
+SHUFFLE	COMPRESS_BYTE_COUNT	369244
+SHUFFLE	COPY_MAP_DATA	369355000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1182122
+SHUFFLE	COMPRESS_BYTE_COUNT	390127
+SHUFFLE	COPY_MAP_DATA	322419000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	952478
+SHUFFLE	COMPRESS_BYTE_COUNT	318870
+SHUFFLE	COPY_MAP_DATA	19028000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1142082
+SHUFFLE	COMPRESS_BYTE_COUNT	385711
+SHUFFLE	COPY_MAP_DATA	259379000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1247921
+SHUFFLE	COMPRESS_BYTE_COUNT	416158
+SHUFFLE	COPY_MAP_DATA	159779000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1106990
+SHUFFLE	COMPRESS_BYTE_COUNT	375226
+SHUFFLE	COPY_MAP_DATA	188294000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1117735
+SHUFFLE	COMPRESS_BYTE_COUNT	379661
+SHUFFLE	COPY_MAP_DATA	53543000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1090398
+SHUFFLE	COMPRESS_BYTE_COUNT	367514
+SHUFFLE	COPY_MAP_DATA	25307000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1117604
+SHUFFLE	COMPRESS_BYTE_COUNT	378192
+SHUFFLE	COPY_MAP_DATA	19904000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1015064
+SHUFFLE	COMPRESS_BYTE_COUNT	341334
+SHUFFLE	COPY_MAP_DATA	20715000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1072828
+SHUFFLE	COMPRESS_BYTE_COUNT	360440
+SHUFFLE	COPY_MAP_DATA	58047000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1090009
+SHUFFLE	COMPRESS_BYTE_COUNT	368053
+SHUFFLE	COPY_MAP_DATA	24660000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1006937
+SHUFFLE	COMPRESS_BYTE_COUNT	338173
+SHUFFLE	COPY_MAP_DATA	136549000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1100228
+SHUFFLE	COMPRESS_BYTE_COUNT	372398
+SHUFFLE	COPY_MAP_DATA	22225000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1118255
+SHUFFLE	COMPRESS_BYTE_COUNT	379291
+SHUFFLE	COPY_MAP_DATA	78793000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	757216
+SHUFFLE	COMPRESS_BYTE_COUNT	271833
+SHUFFLE	COPY_MAP_DATA	330644000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	757407
+SHUFFLE	COMPRESS_BYTE_COUNT	274841
+SHUFFLE	COPY_MAP_DATA	18244000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	760621
+SHUFFLE	COMPRESS_BYTE_COUNT	275541
+SHUFFLE	COPY_MAP_DATA	1221959000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	780960
+SHUFFLE	COMPRESS_BYTE_COUNT	284153
+SHUFFLE	COPY_MAP_DATA	1685272000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	849634
+SHUFFLE	COMPRESS_BYTE_COUNT	295205
+SHUFFLE	COPY_MAP_DATA	123431000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	791894
+SHUFFLE	COMPRESS_BYTE_COUNT	286457
+SHUFFLE	COPY_MAP_DATA	103530000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	799507
+SHUFFLE	COMPRESS_BYTE_COUNT	289728
+SHUFFLE	COPY_MAP_DATA	237757000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	759169
+SHUFFLE	COMPRESS_BYTE_COUNT	271491
+SHUFFLE	COPY_MAP_DATA	4339483000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1024786
+SHUFFLE	COMPRESS_BYTE_COUNT	353414
+SHUFFLE	COPY_MAP_DATA	2949941000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	790366
+SHUFFLE	COMPRESS_BYTE_COUNT	286257
+SHUFFLE	COPY_MAP_DATA	17141000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	850186
+SHUFFLE	COMPRESS_BYTE_COUNT	292516
+SHUFFLE	COPY_MAP_DATA	91658000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	753091
+SHUFFLE	COMPRESS_BYTE_COUNT	271966
+SHUFFLE	COPY_MAP_DATA	15108000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	771404
+SHUFFLE	COMPRESS_BYTE_COUNT	282533
+SHUFFLE	COPY_MAP_DATA	33855000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	711856
+SHUFFLE	COMPRESS_BYTE_COUNT	258917
+SHUFFLE	COPY_MAP_DATA	281910000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	749738
+SHUFFLE	COMPRESS_BYTE_COUNT	272730
+SHUFFLE	COPY_MAP_DATA	15098000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	851220
+SHUFFLE	COMPRESS_BYTE_COUNT	299521
+SHUFFLE	COPY_MAP_DATA	17213000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1041648
+SHUFFLE	COMPRESS_BYTE_COUNT	356771
+SHUFFLE	COPY_MAP_DATA	154314000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	744559
+SHUFFLE	COMPRESS_BYTE_COUNT	270068
+SHUFFLE	COPY_MAP_DATA	192917000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	781853
+SHUFFLE	COMPRESS_BYTE_COUNT	282688
+SHUFFLE	COPY_MAP_DATA	16142000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	751735
+SHUFFLE	COMPRESS_BYTE_COUNT	273887
+SHUFFLE	COPY_MAP_DATA	592612000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	775858
+SHUFFLE	COMPRESS_BYTE_COUNT	281084
+SHUFFLE	COPY_MAP_DATA	166337000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	975075
+SHUFFLE	COMPRESS_BYTE_COUNT	337039
+SHUFFLE	COPY_MAP_DATA	20795000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	742527
+SHUFFLE	COMPRESS_BYTE_COUNT	269368
+SHUFFLE	COPY_MAP_DATA	178741000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1126148
+SHUFFLE	COMPRESS_BYTE_COUNT	381625
+SHUFFLE	COPY_MAP_DATA	62121000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1118572
+SHUFFLE	COMPRESS_BYTE_COUNT	378028
+SHUFFLE	COPY_MAP_DATA	27847000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1111984
+SHUFFLE	COMPRESS_BYTE_COUNT	378196
+SHUFFLE	COPY_MAP_DATA	372953000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	756172
+SHUFFLE	COMPRESS_BYTE_COUNT	271620
+SHUFFLE	COPY_MAP_DATA	70164000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	965000
+SHUFFLE	COMPRESS_BYTE_COUNT	333839
+SHUFFLE	COPY_MAP_DATA	17976000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1161033
+SHUFFLE	COMPRESS_BYTE_COUNT	396673
+SHUFFLE	COPY_MAP_DATA	119183000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	220278
+SHUFFLE	COMPRESS_BYTE_COUNT	96546
+SHUFFLE	COPY_MAP_DATA	7920000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	726027
+SHUFFLE	COMPRESS_BYTE_COUNT	264204
+SHUFFLE	COPY_MAP_DATA	1074038000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1124755
+SHUFFLE	COMPRESS_BYTE_COUNT	380162
+SHUFFLE	COPY_MAP_DATA	23015000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	758687
+SHUFFLE	COMPRESS_BYTE_COUNT	275436
+SHUFFLE	COPY_MAP_DATA	20935000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	310259
+SHUFFLE	COMPRESS_BYTE_COUNT	127074
+SHUFFLE	COPY_MAP_DATA	139268000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	241387
+SHUFFLE	COMPRESS_BYTE_COUNT	104118
+SHUFFLE	COPY_MAP_DATA	1261792000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	354254
+SHUFFLE	COMPRESS_BYTE_COUNT	141931
+SHUFFLE	COPY_MAP_DATA	89782000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	412006
+SHUFFLE	COMPRESS_BYTE_COUNT	162114
+SHUFFLE	COPY_MAP_DATA	10818000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	206611
+SHUFFLE	COMPRESS_BYTE_COUNT	90245
+SHUFFLE	COPY_MAP_DATA	213265000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	756004
+SHUFFLE	COMPRESS_BYTE_COUNT	275781
+SHUFFLE	COPY_MAP_DATA	17336000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	183749
+SHUFFLE	COMPRESS_BYTE_COUNT	80025
+SHUFFLE	COPY_MAP_DATA	78803000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	171401
+SHUFFLE	COMPRESS_BYTE_COUNT	75402
+SHUFFLE	COPY_MAP_DATA	299560000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	741519
+SHUFFLE	COMPRESS_BYTE_COUNT	270282
+SHUFFLE	COPY_MAP_DATA	1579732000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	471467
+SHUFFLE	COMPRESS_BYTE_COUNT	182826
+SHUFFLE	COPY_MAP_DATA	10709000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	214493
+SHUFFLE	COMPRESS_BYTE_COUNT	91989
+SHUFFLE	COPY_MAP_DATA	41047000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	654474
+SHUFFLE	COMPRESS_BYTE_COUNT	241906
+SHUFFLE	COPY_MAP_DATA	15995000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	139088
+SHUFFLE	COMPRESS_BYTE_COUNT	61145
+SHUFFLE	COPY_MAP_DATA	6124000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	746841
+SHUFFLE	COMPRESS_BYTE_COUNT	272786
+SHUFFLE	COPY_MAP_DATA	16704000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	721289
+SHUFFLE	COMPRESS_BYTE_COUNT	262529
+SHUFFLE	COPY_MAP_DATA	2984044000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	659606
+SHUFFLE	COMPRESS_BYTE_COUNT	240669
+SHUFFLE	COPY_MAP_DATA	19124000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	718785
+SHUFFLE	COMPRESS_BYTE_COUNT	261945
+SHUFFLE	COPY_MAP_DATA	15119000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	446173
+SHUFFLE	COMPRESS_BYTE_COUNT	171967
+SHUFFLE	COPY_MAP_DATA	12461000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	517096
+SHUFFLE	COMPRESS_BYTE_COUNT	199142
+SHUFFLE	COPY_MAP_DATA	13202000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	665310
+SHUFFLE	COMPRESS_BYTE_COUNT	243858
+SHUFFLE	COPY_MAP_DATA	19435000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	715347
+SHUFFLE	COMPRESS_BYTE_COUNT	260924
+SHUFFLE	COPY_MAP_DATA	16013000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	649633
+SHUFFLE	COMPRESS_BYTE_COUNT	239343
+SHUFFLE	COPY_MAP_DATA	13931000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	638491
+SHUFFLE	COMPRESS_BYTE_COUNT	238392
+SHUFFLE	COPY_MAP_DATA	14082000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	484795
+SHUFFLE	COMPRESS_BYTE_COUNT	187826
+SHUFFLE	COPY_MAP_DATA	18389000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	408689
+SHUFFLE	COMPRESS_BYTE_COUNT	159609
+SHUFFLE	COPY_MAP_DATA	11226000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	706136
+SHUFFLE	COMPRESS_BYTE_COUNT	257593
+SHUFFLE	COPY_MAP_DATA	14356000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	732185
+SHUFFLE	COMPRESS_BYTE_COUNT	266257
+SHUFFLE	COPY_MAP_DATA	17057000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	572061
+SHUFFLE	COMPRESS_BYTE_COUNT	220037
+SHUFFLE	COPY_MAP_DATA	14255000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	701654
+SHUFFLE	COMPRESS_BYTE_COUNT	256893
+SHUFFLE	COPY_MAP_DATA	15294000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	673650
+SHUFFLE	COMPRESS_BYTE_COUNT	247520
+SHUFFLE	COPY_MAP_DATA	13192000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	504295
+SHUFFLE	COMPRESS_BYTE_COUNT	194366
+SHUFFLE	COPY_MAP_DATA	13719000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	317712
+SHUFFLE	COMPRESS_BYTE_COUNT	112991
+SHUFFLE	COPY_MAP_DATA	35069000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	524899
+SHUFFLE	COMPRESS_BYTE_COUNT	202629
+SHUFFLE	COPY_MAP_DATA	11673000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	745578
+SHUFFLE	COMPRESS_BYTE_COUNT	269354
+SHUFFLE	COPY_MAP_DATA	17206000
+SHUFFLE	UNCOMPRESS	0
+SORT	MERGE_MAP_DATA	34897915000
+SORT	READ_WRITE	34726552000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	89833392
+REDUCE	SETUP	337000
+REDUCE	SETUP_MEM	89833392
+REDUCE	CLEANUP	28000
+REDUCE	CLEANUP_MEM	93293232
+REDUCE	TOTAL_RUN	15985202000
+REDUCE	READ	942666000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	9634523000
+REDUCE	WRITE	2612547000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	11673638
+REDUCE	VALUE_BYTE_COUNT	1196266
+REDUCE	REDUCE_MEM	93295280
+REDUCE	WRITE	10232000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	551513811319
@@ -0,0 +1,410 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1127526
+SHUFFLE	COMPRESS_BYTE_COUNT	382390
+SHUFFLE	COPY_MAP_DATA	62823000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	999141
+SHUFFLE	COMPRESS_BYTE_COUNT	332543
+SHUFFLE	COPY_MAP_DATA	19378000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1069390
+SHUFFLE	COMPRESS_BYTE_COUNT	365398
+SHUFFLE	COPY_MAP_DATA	27479000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1130138
+SHUFFLE	COMPRESS_BYTE_COUNT	383310
+SHUFFLE	COPY_MAP_DATA	20964000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1124953
+SHUFFLE	COMPRESS_BYTE_COUNT	378314
+SHUFFLE	COPY_MAP_DATA	24280000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	800771
+SHUFFLE	COMPRESS_BYTE_COUNT	288820
+SHUFFLE	COPY_MAP_DATA	45457000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1097357
+SHUFFLE	COMPRESS_BYTE_COUNT	369413
+SHUFFLE	COPY_MAP_DATA	45779000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1153473
+SHUFFLE	COMPRESS_BYTE_COUNT	388415
+SHUFFLE	COPY_MAP_DATA	123955000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1118833
+SHUFFLE	COMPRESS_BYTE_COUNT	378543
+SHUFFLE	COPY_MAP_DATA	186134000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	802514
+SHUFFLE	COMPRESS_BYTE_COUNT	291176
+SHUFFLE	COPY_MAP_DATA	112718000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1025433
+SHUFFLE	COMPRESS_BYTE_COUNT	351635
+SHUFFLE	COPY_MAP_DATA	62681000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1140202
+SHUFFLE	COMPRESS_BYTE_COUNT	385351
+SHUFFLE	COPY_MAP_DATA	956628000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1093114
+SHUFFLE	COMPRESS_BYTE_COUNT	369030
+SHUFFLE	COPY_MAP_DATA	66472000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1124129
+SHUFFLE	COMPRESS_BYTE_COUNT	377924
+SHUFFLE	COPY_MAP_DATA	25156000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1179605
+SHUFFLE	COMPRESS_BYTE_COUNT	390481
+SHUFFLE	COPY_MAP_DATA	81875000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1129213
+SHUFFLE	COMPRESS_BYTE_COUNT	381038
+SHUFFLE	COPY_MAP_DATA	21707000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1095712
+SHUFFLE	COMPRESS_BYTE_COUNT	368889
+SHUFFLE	COPY_MAP_DATA	37595000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1136526
+SHUFFLE	COMPRESS_BYTE_COUNT	383617
+SHUFFLE	COPY_MAP_DATA	28039000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	949506
+SHUFFLE	COMPRESS_BYTE_COUNT	316737
+SHUFFLE	COPY_MAP_DATA	21974000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1101385
+SHUFFLE	COMPRESS_BYTE_COUNT	372539
+SHUFFLE	COPY_MAP_DATA	893156000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1242958
+SHUFFLE	COMPRESS_BYTE_COUNT	412638
+SHUFFLE	COPY_MAP_DATA	1556478000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1082138
+SHUFFLE	COMPRESS_BYTE_COUNT	364597
+SHUFFLE	COPY_MAP_DATA	20455000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1107766
+SHUFFLE	COMPRESS_BYTE_COUNT	373593
+SHUFFLE	COPY_MAP_DATA	131387000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1110798
+SHUFFLE	COMPRESS_BYTE_COUNT	375546
+SHUFFLE	COPY_MAP_DATA	67299000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1064646
+SHUFFLE	COMPRESS_BYTE_COUNT	358283
+SHUFFLE	COPY_MAP_DATA	123301000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1021396
+SHUFFLE	COMPRESS_BYTE_COUNT	342447
+SHUFFLE	COPY_MAP_DATA	36360000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1094206
+SHUFFLE	COMPRESS_BYTE_COUNT	367626
+SHUFFLE	COPY_MAP_DATA	19120000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1010477
+SHUFFLE	COMPRESS_BYTE_COUNT	338736
+SHUFFLE	COPY_MAP_DATA	68170000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1090974
+SHUFFLE	COMPRESS_BYTE_COUNT	368270
+SHUFFLE	COPY_MAP_DATA	666329000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1122029
+SHUFFLE	COMPRESS_BYTE_COUNT	381409
+SHUFFLE	COPY_MAP_DATA	164852000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	749938
+SHUFFLE	COMPRESS_BYTE_COUNT	269040
+SHUFFLE	COPY_MAP_DATA	440477000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	763310
+SHUFFLE	COMPRESS_BYTE_COUNT	277380
+SHUFFLE	COPY_MAP_DATA	1195266000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	760935
+SHUFFLE	COMPRESS_BYTE_COUNT	275367
+SHUFFLE	COPY_MAP_DATA	317458000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	785402
+SHUFFLE	COMPRESS_BYTE_COUNT	286625
+SHUFFLE	COPY_MAP_DATA	134949000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	796194
+SHUFFLE	COMPRESS_BYTE_COUNT	288116
+SHUFFLE	COPY_MAP_DATA	154914000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	843213
+SHUFFLE	COMPRESS_BYTE_COUNT	293058
+SHUFFLE	COPY_MAP_DATA	1241955000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	800083
+SHUFFLE	COMPRESS_BYTE_COUNT	289890
+SHUFFLE	COPY_MAP_DATA	3027511000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	756297
+SHUFFLE	COMPRESS_BYTE_COUNT	270474
+SHUFFLE	COPY_MAP_DATA	1304560000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	846427
+SHUFFLE	COMPRESS_BYTE_COUNT	291661
+SHUFFLE	COPY_MAP_DATA	1141967000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1019252
+SHUFFLE	COMPRESS_BYTE_COUNT	351368
+SHUFFLE	COPY_MAP_DATA	21467000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	784745
+SHUFFLE	COMPRESS_BYTE_COUNT	284284
+SHUFFLE	COPY_MAP_DATA	30704000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	746337
+SHUFFLE	COMPRESS_BYTE_COUNT	269543
+SHUFFLE	COPY_MAP_DATA	16955000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	768607
+SHUFFLE	COMPRESS_BYTE_COUNT	281434
+SHUFFLE	COPY_MAP_DATA	969023000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1041327
+SHUFFLE	COMPRESS_BYTE_COUNT	357337
+SHUFFLE	COPY_MAP_DATA	91521000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	713696
+SHUFFLE	COMPRESS_BYTE_COUNT	259237
+SHUFFLE	COPY_MAP_DATA	29024000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	750220
+SHUFFLE	COMPRESS_BYTE_COUNT	273425
+SHUFFLE	COPY_MAP_DATA	14706000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	745770
+SHUFFLE	COMPRESS_BYTE_COUNT	270531
+SHUFFLE	COPY_MAP_DATA	15803000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	743594
+SHUFFLE	COMPRESS_BYTE_COUNT	271271
+SHUFFLE	COPY_MAP_DATA	283908000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	851403
+SHUFFLE	COMPRESS_BYTE_COUNT	300221
+SHUFFLE	COPY_MAP_DATA	17859813000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	773769
+SHUFFLE	COMPRESS_BYTE_COUNT	278922
+SHUFFLE	COPY_MAP_DATA	16063000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	769037
+SHUFFLE	COMPRESS_BYTE_COUNT	278943
+SHUFFLE	COPY_MAP_DATA	18335000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	977561
+SHUFFLE	COMPRESS_BYTE_COUNT	337490
+SHUFFLE	COPY_MAP_DATA	72257000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1112744
+SHUFFLE	COMPRESS_BYTE_COUNT	376562
+SHUFFLE	COPY_MAP_DATA	22694000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	745311
+SHUFFLE	COMPRESS_BYTE_COUNT	270227
+SHUFFLE	COPY_MAP_DATA	15844000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1127781
+SHUFFLE	COMPRESS_BYTE_COUNT	381589
+SHUFFLE	COPY_MAP_DATA	32642000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1112249
+SHUFFLE	COMPRESS_BYTE_COUNT	376912
+SHUFFLE	COPY_MAP_DATA	3901868000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	959646
+SHUFFLE	COMPRESS_BYTE_COUNT	332091
+SHUFFLE	COPY_MAP_DATA	436732000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	753054
+SHUFFLE	COMPRESS_BYTE_COUNT	269592
+SHUFFLE	COPY_MAP_DATA	15550000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1147293
+SHUFFLE	COMPRESS_BYTE_COUNT	391180
+SHUFFLE	COPY_MAP_DATA	2483113000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	221895
+SHUFFLE	COMPRESS_BYTE_COUNT	96847
+SHUFFLE	COPY_MAP_DATA	204018000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	724344
+SHUFFLE	COMPRESS_BYTE_COUNT	263241
+SHUFFLE	COPY_MAP_DATA	1213542000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	759125
+SHUFFLE	COMPRESS_BYTE_COUNT	276920
+SHUFFLE	COPY_MAP_DATA	53446000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1121699
+SHUFFLE	COMPRESS_BYTE_COUNT	379024
+SHUFFLE	COPY_MAP_DATA	96426000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	308686
+SHUFFLE	COMPRESS_BYTE_COUNT	126731
+SHUFFLE	COPY_MAP_DATA	9496000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	240903
+SHUFFLE	COMPRESS_BYTE_COUNT	103985
+SHUFFLE	COPY_MAP_DATA	139019000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	356492
+SHUFFLE	COMPRESS_BYTE_COUNT	142413
+SHUFFLE	COPY_MAP_DATA	9909000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	205444
+SHUFFLE	COMPRESS_BYTE_COUNT	89521
+SHUFFLE	COPY_MAP_DATA	338092000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	406434
+SHUFFLE	COMPRESS_BYTE_COUNT	159549
+SHUFFLE	COPY_MAP_DATA	14705000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	753911
+SHUFFLE	COMPRESS_BYTE_COUNT	273865
+SHUFFLE	COPY_MAP_DATA	233001000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	185050
+SHUFFLE	COMPRESS_BYTE_COUNT	80223
+SHUFFLE	COPY_MAP_DATA	391159000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	169652
+SHUFFLE	COMPRESS_BYTE_COUNT	74074
+SHUFFLE	COPY_MAP_DATA	6243000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	466656
+SHUFFLE	COMPRESS_BYTE_COUNT	180586
+SHUFFLE	COPY_MAP_DATA	647454000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	216993
+SHUFFLE	COMPRESS_BYTE_COUNT	92895
+SHUFFLE	COPY_MAP_DATA	41464000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	733685
+SHUFFLE	COMPRESS_BYTE_COUNT	267731
+SHUFFLE	COPY_MAP_DATA	15391000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	138372
+SHUFFLE	COMPRESS_BYTE_COUNT	60814
+SHUFFLE	COPY_MAP_DATA	5321000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	642760
+SHUFFLE	COMPRESS_BYTE_COUNT	236520
+SHUFFLE	COPY_MAP_DATA	13874000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	739434
+SHUFFLE	COMPRESS_BYTE_COUNT	268303
+SHUFFLE	COPY_MAP_DATA	15425000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	718595
+SHUFFLE	COMPRESS_BYTE_COUNT	262160
+SHUFFLE	COPY_MAP_DATA	14205000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	719912
+SHUFFLE	COMPRESS_BYTE_COUNT	261313
+SHUFFLE	COPY_MAP_DATA	32412000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	657368
+SHUFFLE	COMPRESS_BYTE_COUNT	239606
+SHUFFLE	COPY_MAP_DATA	14309000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	660417
+SHUFFLE	COMPRESS_BYTE_COUNT	242167
+SHUFFLE	COPY_MAP_DATA	25658000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	517369
+SHUFFLE	COMPRESS_BYTE_COUNT	199196
+SHUFFLE	COPY_MAP_DATA	12176000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	446926
+SHUFFLE	COMPRESS_BYTE_COUNT	172126
+SHUFFLE	COPY_MAP_DATA	30797000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	487931
+SHUFFLE	COMPRESS_BYTE_COUNT	188214
+SHUFFLE	COPY_MAP_DATA	11671000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	639774
+SHUFFLE	COMPRESS_BYTE_COUNT	239055
+SHUFFLE	COPY_MAP_DATA	23657000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	708551
+SHUFFLE	COMPRESS_BYTE_COUNT	258245
+SHUFFLE	COPY_MAP_DATA	14766000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	657800
+SHUFFLE	COMPRESS_BYTE_COUNT	242119
+SHUFFLE	COPY_MAP_DATA	13927000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	406369
+SHUFFLE	COMPRESS_BYTE_COUNT	158585
+SHUFFLE	COPY_MAP_DATA	22223000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	702983
+SHUFFLE	COMPRESS_BYTE_COUNT	256789
+SHUFFLE	COPY_MAP_DATA	14966000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	725880
+SHUFFLE	COMPRESS_BYTE_COUNT	263680
+SHUFFLE	COPY_MAP_DATA	15364000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	580477
+SHUFFLE	COMPRESS_BYTE_COUNT	222797
+SHUFFLE	COPY_MAP_DATA	38043000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	694896
+SHUFFLE	COMPRESS_BYTE_COUNT	254130
+SHUFFLE	COPY_MAP_DATA	23171000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	508561
+SHUFFLE	COMPRESS_BYTE_COUNT	195736
+SHUFFLE	COPY_MAP_DATA	11551000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	667557
+SHUFFLE	COMPRESS_BYTE_COUNT	245589
+SHUFFLE	COPY_MAP_DATA	12795000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	317845
+SHUFFLE	COMPRESS_BYTE_COUNT	112539
+SHUFFLE	COPY_MAP_DATA	24190000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	532168
+SHUFFLE	COMPRESS_BYTE_COUNT	205476
+SHUFFLE	COPY_MAP_DATA	12258000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	747695
+SHUFFLE	COMPRESS_BYTE_COUNT	269341
+SHUFFLE	COPY_MAP_DATA	16305000
+SHUFFLE	UNCOMPRESS	0
+SORT	MERGE_MAP_DATA	34238458000
+SORT	READ_WRITE	34153539000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	101287432
+REDUCE	SETUP	283000
+REDUCE	SETUP_MEM	101287432
+REDUCE	CLEANUP	27000
+REDUCE	CLEANUP_MEM	70842792
+REDUCE	TOTAL_RUN	15673872000
+REDUCE	READ	953483000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	9269809000
+REDUCE	WRITE	2466139000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	11654310
+REDUCE	VALUE_BYTE_COUNT	1194561
+REDUCE	REDUCE_MEM	71606688
+REDUCE	WRITE	33059000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	556780600973
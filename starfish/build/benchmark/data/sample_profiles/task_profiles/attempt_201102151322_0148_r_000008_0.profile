@@ -0,0 +1,410 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1119785
+SHUFFLE	COMPRESS_BYTE_COUNT	379680
+SHUFFLE	COPY_MAP_DATA	1255426000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	981750
+SHUFFLE	COMPRESS_BYTE_COUNT	327903
+SHUFFLE	COPY_MAP_DATA	18916000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1106738
+SHUFFLE	COMPRESS_BYTE_COUNT	373951
+SHUFFLE	COPY_MAP_DATA	51674000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1079321
+SHUFFLE	COMPRESS_BYTE_COUNT	366117
+SHUFFLE	COPY_MAP_DATA	316406000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1012398
+SHUFFLE	COMPRESS_BYTE_COUNT	349031
+SHUFFLE	COPY_MAP_DATA	20532000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1116933
+SHUFFLE	COMPRESS_BYTE_COUNT	380352
+SHUFFLE	COPY_MAP_DATA	23349000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	794273
+SHUFFLE	COMPRESS_BYTE_COUNT	288645
+SHUFFLE	COPY_MAP_DATA	48526000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1114102
+SHUFFLE	COMPRESS_BYTE_COUNT	377272
+SHUFFLE	COPY_MAP_DATA	252937000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1063906
+SHUFFLE	COMPRESS_BYTE_COUNT	364950
+SHUFFLE	COPY_MAP_DATA	163531000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1141183
+SHUFFLE	COMPRESS_BYTE_COUNT	386570
+SHUFFLE	COPY_MAP_DATA	21109000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1085352
+SHUFFLE	COMPRESS_BYTE_COUNT	367420
+SHUFFLE	COPY_MAP_DATA	71422000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	788754
+SHUFFLE	COMPRESS_BYTE_COUNT	287491
+SHUFFLE	COPY_MAP_DATA	96234000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1130446
+SHUFFLE	COMPRESS_BYTE_COUNT	383625
+SHUFFLE	COPY_MAP_DATA	24130000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1112527
+SHUFFLE	COMPRESS_BYTE_COUNT	377072
+SHUFFLE	COPY_MAP_DATA	255691000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1083345
+SHUFFLE	COMPRESS_BYTE_COUNT	366594
+SHUFFLE	COPY_MAP_DATA	52338000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1174491
+SHUFFLE	COMPRESS_BYTE_COUNT	389801
+SHUFFLE	COPY_MAP_DATA	100406000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1116506
+SHUFFLE	COMPRESS_BYTE_COUNT	377304
+SHUFFLE	COPY_MAP_DATA	140947000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	942176
+SHUFFLE	COMPRESS_BYTE_COUNT	315387
+SHUFFLE	COPY_MAP_DATA	111105000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1124084
+SHUFFLE	COMPRESS_BYTE_COUNT	381403
+SHUFFLE	COPY_MAP_DATA	1679109000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1095341
+SHUFFLE	COMPRESS_BYTE_COUNT	371503
+SHUFFLE	COPY_MAP_DATA	1010803000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1231078
+SHUFFLE	COMPRESS_BYTE_COUNT	410793
+SHUFFLE	COPY_MAP_DATA	53698000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1069487
+SHUFFLE	COMPRESS_BYTE_COUNT	362151
+SHUFFLE	COPY_MAP_DATA	91126000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1061420
+SHUFFLE	COMPRESS_BYTE_COUNT	359107
+SHUFFLE	COPY_MAP_DATA	990453000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1094301
+SHUFFLE	COMPRESS_BYTE_COUNT	371005
+SHUFFLE	COPY_MAP_DATA	56998000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1003507
+SHUFFLE	COMPRESS_BYTE_COUNT	338588
+SHUFFLE	COPY_MAP_DATA	19303000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1097670
+SHUFFLE	COMPRESS_BYTE_COUNT	370819
+SHUFFLE	COPY_MAP_DATA	19751000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1081451
+SHUFFLE	COMPRESS_BYTE_COUNT	365751
+SHUFFLE	COPY_MAP_DATA	20027000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	995817
+SHUFFLE	COMPRESS_BYTE_COUNT	336114
+SHUFFLE	COPY_MAP_DATA	97071000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1084415
+SHUFFLE	COMPRESS_BYTE_COUNT	367745
+SHUFFLE	COPY_MAP_DATA	21877000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1107424
+SHUFFLE	COMPRESS_BYTE_COUNT	376832
+SHUFFLE	COPY_MAP_DATA	944281000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	747062
+SHUFFLE	COMPRESS_BYTE_COUNT	269123
+SHUFFLE	COPY_MAP_DATA	961423000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	751017
+SHUFFLE	COMPRESS_BYTE_COUNT	272186
+SHUFFLE	COPY_MAP_DATA	15818000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	753829
+SHUFFLE	COMPRESS_BYTE_COUNT	273519
+SHUFFLE	COPY_MAP_DATA	43991000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	774920
+SHUFFLE	COMPRESS_BYTE_COUNT	283210
+SHUFFLE	COPY_MAP_DATA	266009000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	838750
+SHUFFLE	COMPRESS_BYTE_COUNT	292199
+SHUFFLE	COPY_MAP_DATA	660098000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	785535
+SHUFFLE	COMPRESS_BYTE_COUNT	284369
+SHUFFLE	COPY_MAP_DATA	16276000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	790798
+SHUFFLE	COMPRESS_BYTE_COUNT	287718
+SHUFFLE	COPY_MAP_DATA	869478000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	751714
+SHUFFLE	COMPRESS_BYTE_COUNT	270060
+SHUFFLE	COPY_MAP_DATA	3044784000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	842533
+SHUFFLE	COMPRESS_BYTE_COUNT	291431
+SHUFFLE	COPY_MAP_DATA	111901000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1012258
+SHUFFLE	COMPRESS_BYTE_COUNT	349243
+SHUFFLE	COPY_MAP_DATA	1786465000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	764425
+SHUFFLE	COMPRESS_BYTE_COUNT	281158
+SHUFFLE	COPY_MAP_DATA	501933000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	705965
+SHUFFLE	COMPRESS_BYTE_COUNT	256522
+SHUFFLE	COPY_MAP_DATA	52374000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	780997
+SHUFFLE	COMPRESS_BYTE_COUNT	284254
+SHUFFLE	COPY_MAP_DATA	16615000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	737578
+SHUFFLE	COMPRESS_BYTE_COUNT	269150
+SHUFFLE	COPY_MAP_DATA	16331000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	748589
+SHUFFLE	COMPRESS_BYTE_COUNT	271615
+SHUFFLE	COPY_MAP_DATA	92686000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	850019
+SHUFFLE	COMPRESS_BYTE_COUNT	300381
+SHUFFLE	COPY_MAP_DATA	17118000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1028676
+SHUFFLE	COMPRESS_BYTE_COUNT	354120
+SHUFFLE	COPY_MAP_DATA	30193000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	735644
+SHUFFLE	COMPRESS_BYTE_COUNT	269271
+SHUFFLE	COPY_MAP_DATA	16014000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	738463
+SHUFFLE	COMPRESS_BYTE_COUNT	269486
+SHUFFLE	COPY_MAP_DATA	22329000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	768166
+SHUFFLE	COMPRESS_BYTE_COUNT	279916
+SHUFFLE	COPY_MAP_DATA	26212000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	769854
+SHUFFLE	COMPRESS_BYTE_COUNT	277660
+SHUFFLE	COPY_MAP_DATA	15899000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	959380
+SHUFFLE	COMPRESS_BYTE_COUNT	332300
+SHUFFLE	COPY_MAP_DATA	24880000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1106495
+SHUFFLE	COMPRESS_BYTE_COUNT	375006
+SHUFFLE	COPY_MAP_DATA	52103000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	737905
+SHUFFLE	COMPRESS_BYTE_COUNT	268650
+SHUFFLE	COPY_MAP_DATA	15242000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1114759
+SHUFFLE	COMPRESS_BYTE_COUNT	377110
+SHUFFLE	COPY_MAP_DATA	39503000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1101204
+SHUFFLE	COMPRESS_BYTE_COUNT	374877
+SHUFFLE	COPY_MAP_DATA	19687000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	751814
+SHUFFLE	COMPRESS_BYTE_COUNT	270147
+SHUFFLE	COPY_MAP_DATA	16434000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	954353
+SHUFFLE	COMPRESS_BYTE_COUNT	331387
+SHUFFLE	COPY_MAP_DATA	19655000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1141065
+SHUFFLE	COMPRESS_BYTE_COUNT	390774
+SHUFFLE	COPY_MAP_DATA	118291000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	220689
+SHUFFLE	COMPRESS_BYTE_COUNT	96774
+SHUFFLE	COPY_MAP_DATA	7619000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	718563
+SHUFFLE	COMPRESS_BYTE_COUNT	261544
+SHUFFLE	COPY_MAP_DATA	16199000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	748570
+SHUFFLE	COMPRESS_BYTE_COUNT	273915
+SHUFFLE	COPY_MAP_DATA	42540000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1113499
+SHUFFLE	COMPRESS_BYTE_COUNT	377745
+SHUFFLE	COPY_MAP_DATA	115717000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	309621
+SHUFFLE	COMPRESS_BYTE_COUNT	127235
+SHUFFLE	COPY_MAP_DATA	9451000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	239792
+SHUFFLE	COMPRESS_BYTE_COUNT	103722
+SHUFFLE	COPY_MAP_DATA	45134000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	354663
+SHUFFLE	COMPRESS_BYTE_COUNT	141775
+SHUFFLE	COPY_MAP_DATA	9914000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	205790
+SHUFFLE	COMPRESS_BYTE_COUNT	89899
+SHUFFLE	COPY_MAP_DATA	342750000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	405680
+SHUFFLE	COMPRESS_BYTE_COUNT	159357
+SHUFFLE	COPY_MAP_DATA	209692000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	744480
+SHUFFLE	COMPRESS_BYTE_COUNT	271526
+SHUFFLE	COPY_MAP_DATA	72221000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	184750
+SHUFFLE	COMPRESS_BYTE_COUNT	80184
+SHUFFLE	COPY_MAP_DATA	1892224000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	466531
+SHUFFLE	COMPRESS_BYTE_COUNT	181454
+SHUFFLE	COPY_MAP_DATA	420193000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	732599
+SHUFFLE	COMPRESS_BYTE_COUNT	267986
+SHUFFLE	COPY_MAP_DATA	23233000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	166948
+SHUFFLE	COMPRESS_BYTE_COUNT	73549
+SHUFFLE	COPY_MAP_DATA	1557196000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	213947
+SHUFFLE	COMPRESS_BYTE_COUNT	91774
+SHUFFLE	COPY_MAP_DATA	6922000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	639704
+SHUFFLE	COMPRESS_BYTE_COUNT	237517
+SHUFFLE	COPY_MAP_DATA	13967000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	137545
+SHUFFLE	COMPRESS_BYTE_COUNT	60452
+SHUFFLE	COPY_MAP_DATA	4279000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	739988
+SHUFFLE	COMPRESS_BYTE_COUNT	269879
+SHUFFLE	COPY_MAP_DATA	67919000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	710235
+SHUFFLE	COMPRESS_BYTE_COUNT	259690
+SHUFFLE	COPY_MAP_DATA	29416000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	708606
+SHUFFLE	COMPRESS_BYTE_COUNT	259082
+SHUFFLE	COPY_MAP_DATA	14028000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	650345
+SHUFFLE	COMPRESS_BYTE_COUNT	237322
+SHUFFLE	COPY_MAP_DATA	13999000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	509513
+SHUFFLE	COMPRESS_BYTE_COUNT	196913
+SHUFFLE	COPY_MAP_DATA	12185000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	655535
+SHUFFLE	COMPRESS_BYTE_COUNT	240867
+SHUFFLE	COPY_MAP_DATA	14051000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	443744
+SHUFFLE	COMPRESS_BYTE_COUNT	171350
+SHUFFLE	COPY_MAP_DATA	10189000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	704223
+SHUFFLE	COMPRESS_BYTE_COUNT	257355
+SHUFFLE	COPY_MAP_DATA	3443599000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	646120
+SHUFFLE	COMPRESS_BYTE_COUNT	238943
+SHUFFLE	COPY_MAP_DATA	13357000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	483728
+SHUFFLE	COMPRESS_BYTE_COUNT	187315
+SHUFFLE	COPY_MAP_DATA	44155000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	634995
+SHUFFLE	COMPRESS_BYTE_COUNT	238117
+SHUFFLE	COPY_MAP_DATA	12948000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	402235
+SHUFFLE	COMPRESS_BYTE_COUNT	157354
+SHUFFLE	COPY_MAP_DATA	122225000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	703463
+SHUFFLE	COMPRESS_BYTE_COUNT	257228
+SHUFFLE	COPY_MAP_DATA	166604000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	720548
+SHUFFLE	COMPRESS_BYTE_COUNT	262817
+SHUFFLE	COPY_MAP_DATA	33137000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	574547
+SHUFFLE	COMPRESS_BYTE_COUNT	220498
+SHUFFLE	COPY_MAP_DATA	57325000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	496296
+SHUFFLE	COMPRESS_BYTE_COUNT	191749
+SHUFFLE	COPY_MAP_DATA	70856000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	692738
+SHUFFLE	COMPRESS_BYTE_COUNT	254327
+SHUFFLE	COPY_MAP_DATA	13517000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	654944
+SHUFFLE	COMPRESS_BYTE_COUNT	241571
+SHUFFLE	COPY_MAP_DATA	13373000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	313352
+SHUFFLE	COMPRESS_BYTE_COUNT	111317
+SHUFFLE	COPY_MAP_DATA	7596000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	523319
+SHUFFLE	COMPRESS_BYTE_COUNT	203241
+SHUFFLE	COPY_MAP_DATA	11734000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	741770
+SHUFFLE	COMPRESS_BYTE_COUNT	267392
+SHUFFLE	COPY_MAP_DATA	187627000
+SHUFFLE	UNCOMPRESS	0
+SORT	MERGE_MAP_DATA	35227448000
+SORT	READ_WRITE	35138191000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	90563800
+REDUCE	SETUP	340000
+REDUCE	SETUP_MEM	90563800
+REDUCE	CLEANUP	26000
+REDUCE	CLEANUP_MEM	89464936
+REDUCE	TOTAL_RUN	15917183000
+REDUCE	READ	826191000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	9629018000
+REDUCE	WRITE	2706961000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	11650867
+REDUCE	VALUE_BYTE_COUNT	1193457
+REDUCE	REDUCE_MEM	89466984
+REDUCE	WRITE	7239000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	557608357000
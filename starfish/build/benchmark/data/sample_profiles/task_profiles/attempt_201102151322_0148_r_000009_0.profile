@@ -0,0 +1,410 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1077879
+SHUFFLE	COMPRESS_BYTE_COUNT	369335
+SHUFFLE	COPY_MAP_DATA	2253435000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1132363
+SHUFFLE	COMPRESS_BYTE_COUNT	381490
+SHUFFLE	COPY_MAP_DATA	69898000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1137140
+SHUFFLE	COMPRESS_BYTE_COUNT	385087
+SHUFFLE	COPY_MAP_DATA	191754000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	999852
+SHUFFLE	COMPRESS_BYTE_COUNT	333564
+SHUFFLE	COPY_MAP_DATA	182611000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	802048
+SHUFFLE	COMPRESS_BYTE_COUNT	289477
+SHUFFLE	COPY_MAP_DATA	117198000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1130043
+SHUFFLE	COMPRESS_BYTE_COUNT	382324
+SHUFFLE	COPY_MAP_DATA	74808000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1123089
+SHUFFLE	COMPRESS_BYTE_COUNT	378748
+SHUFFLE	COPY_MAP_DATA	1694794000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1100405
+SHUFFLE	COMPRESS_BYTE_COUNT	371403
+SHUFFLE	COPY_MAP_DATA	155776000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	798833
+SHUFFLE	COMPRESS_BYTE_COUNT	290721
+SHUFFLE	COPY_MAP_DATA	59081000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1161024
+SHUFFLE	COMPRESS_BYTE_COUNT	391705
+SHUFFLE	COPY_MAP_DATA	22745000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1027091
+SHUFFLE	COMPRESS_BYTE_COUNT	352223
+SHUFFLE	COPY_MAP_DATA	74313000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1092193
+SHUFFLE	COMPRESS_BYTE_COUNT	368862
+SHUFFLE	COPY_MAP_DATA	32327000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1153819
+SHUFFLE	COMPRESS_BYTE_COUNT	389645
+SHUFFLE	COPY_MAP_DATA	1481550000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1124949
+SHUFFLE	COMPRESS_BYTE_COUNT	377943
+SHUFFLE	COPY_MAP_DATA	26526000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1177335
+SHUFFLE	COMPRESS_BYTE_COUNT	388962
+SHUFFLE	COPY_MAP_DATA	43829000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1127555
+SHUFFLE	COMPRESS_BYTE_COUNT	380518
+SHUFFLE	COPY_MAP_DATA	32663000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1103626
+SHUFFLE	COMPRESS_BYTE_COUNT	371575
+SHUFFLE	COPY_MAP_DATA	253944000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	948048
+SHUFFLE	COMPRESS_BYTE_COUNT	316831
+SHUFFLE	COPY_MAP_DATA	136674000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1139836
+SHUFFLE	COMPRESS_BYTE_COUNT	385140
+SHUFFLE	COPY_MAP_DATA	21741000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1247702
+SHUFFLE	COMPRESS_BYTE_COUNT	415531
+SHUFFLE	COPY_MAP_DATA	62050000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1107417
+SHUFFLE	COMPRESS_BYTE_COUNT	375573
+SHUFFLE	COPY_MAP_DATA	21317000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1090372
+SHUFFLE	COMPRESS_BYTE_COUNT	367603
+SHUFFLE	COPY_MAP_DATA	27817000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1117611
+SHUFFLE	COMPRESS_BYTE_COUNT	378438
+SHUFFLE	COPY_MAP_DATA	21745000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1073275
+SHUFFLE	COMPRESS_BYTE_COUNT	360987
+SHUFFLE	COPY_MAP_DATA	69873000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1115655
+SHUFFLE	COMPRESS_BYTE_COUNT	375032
+SHUFFLE	COPY_MAP_DATA	40565000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1087624
+SHUFFLE	COMPRESS_BYTE_COUNT	365603
+SHUFFLE	COPY_MAP_DATA	32686000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1018172
+SHUFFLE	COMPRESS_BYTE_COUNT	342963
+SHUFFLE	COPY_MAP_DATA	96076000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1011986
+SHUFFLE	COMPRESS_BYTE_COUNT	339208
+SHUFFLE	COPY_MAP_DATA	19382000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1101515
+SHUFFLE	COMPRESS_BYTE_COUNT	371914
+SHUFFLE	COPY_MAP_DATA	29504000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1123786
+SHUFFLE	COMPRESS_BYTE_COUNT	380863
+SHUFFLE	COPY_MAP_DATA	270856000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	753214
+SHUFFLE	COMPRESS_BYTE_COUNT	270114
+SHUFFLE	COPY_MAP_DATA	44979000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	760783
+SHUFFLE	COMPRESS_BYTE_COUNT	276408
+SHUFFLE	COPY_MAP_DATA	681194000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	763411
+SHUFFLE	COMPRESS_BYTE_COUNT	277397
+SHUFFLE	COPY_MAP_DATA	18326000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	782139
+SHUFFLE	COMPRESS_BYTE_COUNT	284625
+SHUFFLE	COPY_MAP_DATA	2807238000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	849646
+SHUFFLE	COMPRESS_BYTE_COUNT	294166
+SHUFFLE	COPY_MAP_DATA	337497000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	797960
+SHUFFLE	COMPRESS_BYTE_COUNT	288088
+SHUFFLE	COPY_MAP_DATA	16944000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	803174
+SHUFFLE	COMPRESS_BYTE_COUNT	290432
+SHUFFLE	COPY_MAP_DATA	27718000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	760529
+SHUFFLE	COMPRESS_BYTE_COUNT	271970
+SHUFFLE	COPY_MAP_DATA	320297000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	851428
+SHUFFLE	COMPRESS_BYTE_COUNT	293674
+SHUFFLE	COPY_MAP_DATA	33897000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1027512
+SHUFFLE	COMPRESS_BYTE_COUNT	354586
+SHUFFLE	COPY_MAP_DATA	618871000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	787130
+SHUFFLE	COMPRESS_BYTE_COUNT	285889
+SHUFFLE	COPY_MAP_DATA	17149000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	750211
+SHUFFLE	COMPRESS_BYTE_COUNT	271140
+SHUFFLE	COPY_MAP_DATA	14860000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1041600
+SHUFFLE	COMPRESS_BYTE_COUNT	357098
+SHUFFLE	COPY_MAP_DATA	22746000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	778033
+SHUFFLE	COMPRESS_BYTE_COUNT	284794
+SHUFFLE	COPY_MAP_DATA	38586000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	718957
+SHUFFLE	COMPRESS_BYTE_COUNT	261523
+SHUFFLE	COPY_MAP_DATA	16487000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	749581
+SHUFFLE	COMPRESS_BYTE_COUNT	273521
+SHUFFLE	COPY_MAP_DATA	14903000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	748019
+SHUFFLE	COMPRESS_BYTE_COUNT	272063
+SHUFFLE	COPY_MAP_DATA	34228000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	744741
+SHUFFLE	COMPRESS_BYTE_COUNT	271291
+SHUFFLE	COPY_MAP_DATA	15882000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	859158
+SHUFFLE	COMPRESS_BYTE_COUNT	302486
+SHUFFLE	COPY_MAP_DATA	10869040000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	780152
+SHUFFLE	COMPRESS_BYTE_COUNT	280838
+SHUFFLE	COPY_MAP_DATA	17618000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	776708
+SHUFFLE	COMPRESS_BYTE_COUNT	281119
+SHUFFLE	COPY_MAP_DATA	88748000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	980511
+SHUFFLE	COMPRESS_BYTE_COUNT	339104
+SHUFFLE	COPY_MAP_DATA	46867000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1127769
+SHUFFLE	COMPRESS_BYTE_COUNT	381391
+SHUFFLE	COPY_MAP_DATA	361889000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1122798
+SHUFFLE	COMPRESS_BYTE_COUNT	380344
+SHUFFLE	COPY_MAP_DATA	1859333000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1112538
+SHUFFLE	COMPRESS_BYTE_COUNT	377117
+SHUFFLE	COPY_MAP_DATA	231169000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	739799
+SHUFFLE	COMPRESS_BYTE_COUNT	268940
+SHUFFLE	COPY_MAP_DATA	125366000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	763002
+SHUFFLE	COMPRESS_BYTE_COUNT	273650
+SHUFFLE	COPY_MAP_DATA	13740000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	965074
+SHUFFLE	COMPRESS_BYTE_COUNT	334184
+SHUFFLE	COPY_MAP_DATA	197315000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1156202
+SHUFFLE	COMPRESS_BYTE_COUNT	394606
+SHUFFLE	COPY_MAP_DATA	23220000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	222107
+SHUFFLE	COMPRESS_BYTE_COUNT	97254
+SHUFFLE	COPY_MAP_DATA	396709000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	723060
+SHUFFLE	COMPRESS_BYTE_COUNT	263232
+SHUFFLE	COPY_MAP_DATA	1814522000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1116027
+SHUFFLE	COMPRESS_BYTE_COUNT	375974
+SHUFFLE	COPY_MAP_DATA	266673000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	758149
+SHUFFLE	COMPRESS_BYTE_COUNT	275359
+SHUFFLE	COPY_MAP_DATA	109899000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	315132
+SHUFFLE	COMPRESS_BYTE_COUNT	129135
+SHUFFLE	COPY_MAP_DATA	89668000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	243624
+SHUFFLE	COMPRESS_BYTE_COUNT	105286
+SHUFFLE	COPY_MAP_DATA	202119754
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	358460
+SHUFFLE	COMPRESS_BYTE_COUNT	142980
+SHUFFLE	COPY_MAP_DATA	30580000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	409925
+SHUFFLE	COMPRESS_BYTE_COUNT	161009
+SHUFFLE	COPY_MAP_DATA	165045000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	207084
+SHUFFLE	COMPRESS_BYTE_COUNT	90022
+SHUFFLE	COPY_MAP_DATA	1787555000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	756260
+SHUFFLE	COMPRESS_BYTE_COUNT	274481
+SHUFFLE	COPY_MAP_DATA	18014000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	188339
+SHUFFLE	COMPRESS_BYTE_COUNT	81748
+SHUFFLE	COPY_MAP_DATA	631460000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	735105
+SHUFFLE	COMPRESS_BYTE_COUNT	268415
+SHUFFLE	COPY_MAP_DATA	489955000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	471909
+SHUFFLE	COMPRESS_BYTE_COUNT	182422
+SHUFFLE	COPY_MAP_DATA	569440000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	218134
+SHUFFLE	COMPRESS_BYTE_COUNT	93263
+SHUFFLE	COPY_MAP_DATA	84213000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	170236
+SHUFFLE	COMPRESS_BYTE_COUNT	74658
+SHUFFLE	COPY_MAP_DATA	154232000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	647278
+SHUFFLE	COMPRESS_BYTE_COUNT	238693
+SHUFFLE	COPY_MAP_DATA	14241000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	140027
+SHUFFLE	COMPRESS_BYTE_COUNT	61449
+SHUFFLE	COPY_MAP_DATA	5241000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	747306
+SHUFFLE	COMPRESS_BYTE_COUNT	271831
+SHUFFLE	COPY_MAP_DATA	15608000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	722517
+SHUFFLE	COMPRESS_BYTE_COUNT	262592
+SHUFFLE	COPY_MAP_DATA	13966000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	719846
+SHUFFLE	COMPRESS_BYTE_COUNT	261532
+SHUFFLE	COPY_MAP_DATA	14739000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	661302
+SHUFFLE	COMPRESS_BYTE_COUNT	240875
+SHUFFLE	COPY_MAP_DATA	14104000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	516882
+SHUFFLE	COMPRESS_BYTE_COUNT	198764
+SHUFFLE	COPY_MAP_DATA	12174000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	666462
+SHUFFLE	COMPRESS_BYTE_COUNT	243870
+SHUFFLE	COPY_MAP_DATA	24511000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	448329
+SHUFFLE	COMPRESS_BYTE_COUNT	172485
+SHUFFLE	COPY_MAP_DATA	13365000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	650302
+SHUFFLE	COMPRESS_BYTE_COUNT	239056
+SHUFFLE	COPY_MAP_DATA	23401000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	491103
+SHUFFLE	COMPRESS_BYTE_COUNT	190161
+SHUFFLE	COPY_MAP_DATA	13456000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	710362
+SHUFFLE	COMPRESS_BYTE_COUNT	258848
+SHUFFLE	COPY_MAP_DATA	14835000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	637841
+SHUFFLE	COMPRESS_BYTE_COUNT	238855
+SHUFFLE	COPY_MAP_DATA	12803000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	701200
+SHUFFLE	COMPRESS_BYTE_COUNT	256042
+SHUFFLE	COPY_MAP_DATA	14291000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	410446
+SHUFFLE	COMPRESS_BYTE_COUNT	160341
+SHUFFLE	COPY_MAP_DATA	10408000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	729699
+SHUFFLE	COMPRESS_BYTE_COUNT	265157
+SHUFFLE	COPY_MAP_DATA	15306000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	578631
+SHUFFLE	COMPRESS_BYTE_COUNT	222049
+SHUFFLE	COPY_MAP_DATA	12926000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	507100
+SHUFFLE	COMPRESS_BYTE_COUNT	195358
+SHUFFLE	COPY_MAP_DATA	26984000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	699513
+SHUFFLE	COMPRESS_BYTE_COUNT	255987
+SHUFFLE	COPY_MAP_DATA	17696000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	663883
+SHUFFLE	COMPRESS_BYTE_COUNT	244221
+SHUFFLE	COPY_MAP_DATA	18935000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	317853
+SHUFFLE	COMPRESS_BYTE_COUNT	112906
+SHUFFLE	COPY_MAP_DATA	8432000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	529685
+SHUFFLE	COMPRESS_BYTE_COUNT	204917
+SHUFFLE	COPY_MAP_DATA	11004000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	747658
+SHUFFLE	COMPRESS_BYTE_COUNT	268787
+SHUFFLE	COPY_MAP_DATA	15207000
+SHUFFLE	UNCOMPRESS	0
+SORT	MERGE_MAP_DATA	35302135000
+SORT	READ_WRITE	35219464000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	94397800
+REDUCE	SETUP	289000
+REDUCE	SETUP_MEM	94397800
+REDUCE	CLEANUP	33000
+REDUCE	CLEANUP_MEM	104991432
+REDUCE	TOTAL_RUN	19746821833
+REDUCE	READ	939179000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	10884839000
+REDUCE	WRITE	2914534000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	11651398
+REDUCE	VALUE_BYTE_COUNT	1194701
+REDUCE	REDUCE_MEM	104993480
+REDUCE	WRITE	10958000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	563553709015
@@ -0,0 +1,410 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	997744
+SHUFFLE	COMPRESS_BYTE_COUNT	332606
+SHUFFLE	COPY_MAP_DATA	148837000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1118857
+SHUFFLE	COMPRESS_BYTE_COUNT	377388
+SHUFFLE	COPY_MAP_DATA	61307000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1125025
+SHUFFLE	COMPRESS_BYTE_COUNT	381608
+SHUFFLE	COPY_MAP_DATA	119830000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	798664
+SHUFFLE	COMPRESS_BYTE_COUNT	288877
+SHUFFLE	COPY_MAP_DATA	27014000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1069417
+SHUFFLE	COMPRESS_BYTE_COUNT	365896
+SHUFFLE	COPY_MAP_DATA	1890794514
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1125927
+SHUFFLE	COMPRESS_BYTE_COUNT	382240
+SHUFFLE	COPY_MAP_DATA	23378000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1097593
+SHUFFLE	COMPRESS_BYTE_COUNT	372250
+SHUFFLE	COPY_MAP_DATA	73323000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	791213
+SHUFFLE	COMPRESS_BYTE_COUNT	288197
+SHUFFLE	COPY_MAP_DATA	20655000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1024197
+SHUFFLE	COMPRESS_BYTE_COUNT	351639
+SHUFFLE	COPY_MAP_DATA	28368000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1153217
+SHUFFLE	COMPRESS_BYTE_COUNT	389471
+SHUFFLE	COPY_MAP_DATA	161461000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1124429
+SHUFFLE	COMPRESS_BYTE_COUNT	379843
+SHUFFLE	COPY_MAP_DATA	21687000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1088711
+SHUFFLE	COMPRESS_BYTE_COUNT	367396
+SHUFFLE	COPY_MAP_DATA	29193000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1121811
+SHUFFLE	COMPRESS_BYTE_COUNT	377654
+SHUFFLE	COPY_MAP_DATA	142172000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1142226
+SHUFFLE	COMPRESS_BYTE_COUNT	385945
+SHUFFLE	COPY_MAP_DATA	88138000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1126788
+SHUFFLE	COMPRESS_BYTE_COUNT	379760
+SHUFFLE	COPY_MAP_DATA	56943000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1096353
+SHUFFLE	COMPRESS_BYTE_COUNT	369532
+SHUFFLE	COPY_MAP_DATA	140336000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1176421
+SHUFFLE	COMPRESS_BYTE_COUNT	388670
+SHUFFLE	COPY_MAP_DATA	32429000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1136590
+SHUFFLE	COMPRESS_BYTE_COUNT	384167
+SHUFFLE	COPY_MAP_DATA	586323000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	946376
+SHUFFLE	COMPRESS_BYTE_COUNT	316917
+SHUFFLE	COPY_MAP_DATA	20090000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1236302
+SHUFFLE	COMPRESS_BYTE_COUNT	411518
+SHUFFLE	COPY_MAP_DATA	25895000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1098048
+SHUFFLE	COMPRESS_BYTE_COUNT	371345
+SHUFFLE	COPY_MAP_DATA	22375000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1079026
+SHUFFLE	COMPRESS_BYTE_COUNT	363997
+SHUFFLE	COPY_MAP_DATA	21175000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1113231
+SHUFFLE	COMPRESS_BYTE_COUNT	376565
+SHUFFLE	COPY_MAP_DATA	30722000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1114715
+SHUFFLE	COMPRESS_BYTE_COUNT	374978
+SHUFFLE	COPY_MAP_DATA	20341000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1015115
+SHUFFLE	COMPRESS_BYTE_COUNT	341491
+SHUFFLE	COPY_MAP_DATA	86479000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1068309
+SHUFFLE	COMPRESS_BYTE_COUNT	359350
+SHUFFLE	COPY_MAP_DATA	23205000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1087840
+SHUFFLE	COMPRESS_BYTE_COUNT	367158
+SHUFFLE	COPY_MAP_DATA	20616000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1007061
+SHUFFLE	COMPRESS_BYTE_COUNT	338165
+SHUFFLE	COPY_MAP_DATA	218099000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1088157
+SHUFFLE	COMPRESS_BYTE_COUNT	367733
+SHUFFLE	COPY_MAP_DATA	457878000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1109125
+SHUFFLE	COMPRESS_BYTE_COUNT	376732
+SHUFFLE	COPY_MAP_DATA	149632000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	749788
+SHUFFLE	COMPRESS_BYTE_COUNT	269637
+SHUFFLE	COPY_MAP_DATA	15619000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	758645
+SHUFFLE	COMPRESS_BYTE_COUNT	275078
+SHUFFLE	COPY_MAP_DATA	52316000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	759050
+SHUFFLE	COMPRESS_BYTE_COUNT	275743
+SHUFFLE	COPY_MAP_DATA	174181000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	784506
+SHUFFLE	COMPRESS_BYTE_COUNT	286044
+SHUFFLE	COPY_MAP_DATA	16486000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	843362
+SHUFFLE	COMPRESS_BYTE_COUNT	293160
+SHUFFLE	COPY_MAP_DATA	38479000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	792154
+SHUFFLE	COMPRESS_BYTE_COUNT	286734
+SHUFFLE	COPY_MAP_DATA	15484000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	795717
+SHUFFLE	COMPRESS_BYTE_COUNT	288084
+SHUFFLE	COPY_MAP_DATA	16401000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	758827
+SHUFFLE	COMPRESS_BYTE_COUNT	270517
+SHUFFLE	COPY_MAP_DATA	24900000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	853207
+SHUFFLE	COMPRESS_BYTE_COUNT	293929
+SHUFFLE	COPY_MAP_DATA	16581000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1020300
+SHUFFLE	COMPRESS_BYTE_COUNT	351268
+SHUFFLE	COPY_MAP_DATA	18423000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	786251
+SHUFFLE	COMPRESS_BYTE_COUNT	284870
+SHUFFLE	COPY_MAP_DATA	16084000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	750192
+SHUFFLE	COMPRESS_BYTE_COUNT	271886
+SHUFFLE	COPY_MAP_DATA	13701000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	770998
+SHUFFLE	COMPRESS_BYTE_COUNT	282081
+SHUFFLE	COPY_MAP_DATA	60336000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	709073
+SHUFFLE	COMPRESS_BYTE_COUNT	257983
+SHUFFLE	COPY_MAP_DATA	104235000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	745067
+SHUFFLE	COMPRESS_BYTE_COUNT	271585
+SHUFFLE	COPY_MAP_DATA	33003000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	851426
+SHUFFLE	COMPRESS_BYTE_COUNT	300838
+SHUFFLE	COPY_MAP_DATA	62411000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1040440
+SHUFFLE	COMPRESS_BYTE_COUNT	357214
+SHUFFLE	COPY_MAP_DATA	19559000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	746517
+SHUFFLE	COMPRESS_BYTE_COUNT	272697
+SHUFFLE	COPY_MAP_DATA	85704000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	747501
+SHUFFLE	COMPRESS_BYTE_COUNT	272152
+SHUFFLE	COPY_MAP_DATA	282394000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	775020
+SHUFFLE	COMPRESS_BYTE_COUNT	280281
+SHUFFLE	COPY_MAP_DATA	14997000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	775352
+SHUFFLE	COMPRESS_BYTE_COUNT	281129
+SHUFFLE	COPY_MAP_DATA	16289000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	965854
+SHUFFLE	COMPRESS_BYTE_COUNT	333686
+SHUFFLE	COPY_MAP_DATA	18213000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	741442
+SHUFFLE	COMPRESS_BYTE_COUNT	269519
+SHUFFLE	COPY_MAP_DATA	15238000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1117057
+SHUFFLE	COMPRESS_BYTE_COUNT	378813
+SHUFFLE	COPY_MAP_DATA	28633000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1120686
+SHUFFLE	COMPRESS_BYTE_COUNT	378644
+SHUFFLE	COPY_MAP_DATA	79687000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1112564
+SHUFFLE	COMPRESS_BYTE_COUNT	378752
+SHUFFLE	COPY_MAP_DATA	20197000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	751283
+SHUFFLE	COMPRESS_BYTE_COUNT	268831
+SHUFFLE	COPY_MAP_DATA	60846000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	960210
+SHUFFLE	COMPRESS_BYTE_COUNT	332840
+SHUFFLE	COPY_MAP_DATA	19833000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1149762
+SHUFFLE	COMPRESS_BYTE_COUNT	392316
+SHUFFLE	COPY_MAP_DATA	129908000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	219729
+SHUFFLE	COMPRESS_BYTE_COUNT	96204
+SHUFFLE	COPY_MAP_DATA	7419000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	721422
+SHUFFLE	COMPRESS_BYTE_COUNT	262157
+SHUFFLE	COPY_MAP_DATA	59168000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1112593
+SHUFFLE	COMPRESS_BYTE_COUNT	376189
+SHUFFLE	COPY_MAP_DATA	136751000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	758916
+SHUFFLE	COMPRESS_BYTE_COUNT	276092
+SHUFFLE	COPY_MAP_DATA	45815000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	306842
+SHUFFLE	COMPRESS_BYTE_COUNT	125889
+SHUFFLE	COPY_MAP_DATA	29978000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	241128
+SHUFFLE	COMPRESS_BYTE_COUNT	104030
+SHUFFLE	COPY_MAP_DATA	8436000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	356123
+SHUFFLE	COMPRESS_BYTE_COUNT	143008
+SHUFFLE	COPY_MAP_DATA	127913000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	206846
+SHUFFLE	COMPRESS_BYTE_COUNT	90441
+SHUFFLE	COPY_MAP_DATA	41295000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	407869
+SHUFFLE	COMPRESS_BYTE_COUNT	160293
+SHUFFLE	COPY_MAP_DATA	8878000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	752629
+SHUFFLE	COMPRESS_BYTE_COUNT	273412
+SHUFFLE	COPY_MAP_DATA	16419000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	185618
+SHUFFLE	COMPRESS_BYTE_COUNT	80817
+SHUFFLE	COPY_MAP_DATA	12814000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	733664
+SHUFFLE	COMPRESS_BYTE_COUNT	267306
+SHUFFLE	COPY_MAP_DATA	58840000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	469647
+SHUFFLE	COMPRESS_BYTE_COUNT	181319
+SHUFFLE	COPY_MAP_DATA	886498000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	172720
+SHUFFLE	COMPRESS_BYTE_COUNT	75657
+SHUFFLE	COPY_MAP_DATA	5569000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	218639
+SHUFFLE	COMPRESS_BYTE_COUNT	93633
+SHUFFLE	COPY_MAP_DATA	9347000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	640025
+SHUFFLE	COMPRESS_BYTE_COUNT	235919
+SHUFFLE	COPY_MAP_DATA	13172000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	139206
+SHUFFLE	COMPRESS_BYTE_COUNT	61084
+SHUFFLE	COPY_MAP_DATA	4469000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	744287
+SHUFFLE	COMPRESS_BYTE_COUNT	270618
+SHUFFLE	COPY_MAP_DATA	18573000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	716637
+SHUFFLE	COMPRESS_BYTE_COUNT	261425
+SHUFFLE	COPY_MAP_DATA	14744000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	715056
+SHUFFLE	COMPRESS_BYTE_COUNT	259428
+SHUFFLE	COPY_MAP_DATA	14452000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	657629
+SHUFFLE	COMPRESS_BYTE_COUNT	239688
+SHUFFLE	COPY_MAP_DATA	14083000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	446175
+SHUFFLE	COMPRESS_BYTE_COUNT	171558
+SHUFFLE	COPY_MAP_DATA	10217000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	507502
+SHUFFLE	COMPRESS_BYTE_COUNT	195854
+SHUFFLE	COPY_MAP_DATA	10938000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1458547
+SHUFFLE	COMPRESS_BYTE_COUNT	640344
+SHUFFLE	COPY_MAP_DATA	39131000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	651595
+SHUFFLE	COMPRESS_BYTE_COUNT	241224
+SHUFFLE	COPY_MAP_DATA	13506000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	638279
+SHUFFLE	COMPRESS_BYTE_COUNT	239881
+SHUFFLE	COPY_MAP_DATA	12544000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	713981
+SHUFFLE	COMPRESS_BYTE_COUNT	260174
+SHUFFLE	COPY_MAP_DATA	14364000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	490149
+SHUFFLE	COMPRESS_BYTE_COUNT	189658
+SHUFFLE	COPY_MAP_DATA	10482000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	704895
+SHUFFLE	COMPRESS_BYTE_COUNT	256521
+SHUFFLE	COPY_MAP_DATA	14320000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	410135
+SHUFFLE	COMPRESS_BYTE_COUNT	160320
+SHUFFLE	COPY_MAP_DATA	12073000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	734327
+SHUFFLE	COMPRESS_BYTE_COUNT	267063
+SHUFFLE	COPY_MAP_DATA	14622000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	575840
+SHUFFLE	COMPRESS_BYTE_COUNT	221475
+SHUFFLE	COPY_MAP_DATA	27803000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	504037
+SHUFFLE	COMPRESS_BYTE_COUNT	194941
+SHUFFLE	COPY_MAP_DATA	13240000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	316926
+SHUFFLE	COMPRESS_BYTE_COUNT	112308
+SHUFFLE	COPY_MAP_DATA	8146000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	699770
+SHUFFLE	COMPRESS_BYTE_COUNT	256434
+SHUFFLE	COPY_MAP_DATA	14119000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	661240
+SHUFFLE	COMPRESS_BYTE_COUNT	244212
+SHUFFLE	COPY_MAP_DATA	12702000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	522674
+SHUFFLE	COMPRESS_BYTE_COUNT	201755
+SHUFFLE	COPY_MAP_DATA	11095000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	744331
+SHUFFLE	COMPRESS_BYTE_COUNT	268722
+SHUFFLE	COPY_MAP_DATA	14784000
+SHUFFLE	UNCOMPRESS	0
+SORT	MERGE_MAP_DATA	37218776000
+SORT	READ_WRITE	37134801000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	96000656
+REDUCE	SETUP	333000
+REDUCE	SETUP_MEM	96000656
+REDUCE	CLEANUP	28000
+REDUCE	CLEANUP_MEM	90709192
+REDUCE	TOTAL_RUN	18988956338
+REDUCE	READ	764625338
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	10813193000
+REDUCE	WRITE	3263738000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	12457061
+REDUCE	VALUE_BYTE_COUNT	1194787
+REDUCE	REDUCE_MEM	90711240
+REDUCE	WRITE	414745000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	563848358618
@@ -0,0 +1,410 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1125840
+SHUFFLE	COMPRESS_BYTE_COUNT	381744
+SHUFFLE	COPY_MAP_DATA	39494000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	987914
+SHUFFLE	COMPRESS_BYTE_COUNT	330186
+SHUFFLE	COPY_MAP_DATA	20403000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1129004
+SHUFFLE	COMPRESS_BYTE_COUNT	383783
+SHUFFLE	COPY_MAP_DATA	32086000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1066316
+SHUFFLE	COMPRESS_BYTE_COUNT	364406
+SHUFFLE	COPY_MAP_DATA	661363000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1117911
+SHUFFLE	COMPRESS_BYTE_COUNT	376258
+SHUFFLE	COPY_MAP_DATA	31998000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	793468
+SHUFFLE	COMPRESS_BYTE_COUNT	286998
+SHUFFLE	COPY_MAP_DATA	20851000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1092611
+SHUFFLE	COMPRESS_BYTE_COUNT	368993
+SHUFFLE	COPY_MAP_DATA	22665000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1120164
+SHUFFLE	COMPRESS_BYTE_COUNT	378608
+SHUFFLE	COPY_MAP_DATA	33824000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	790927
+SHUFFLE	COMPRESS_BYTE_COUNT	288010
+SHUFFLE	COPY_MAP_DATA	20138000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1015189
+SHUFFLE	COMPRESS_BYTE_COUNT	348314
+SHUFFLE	COPY_MAP_DATA	21223000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1141838
+SHUFFLE	COMPRESS_BYTE_COUNT	385290
+SHUFFLE	COPY_MAP_DATA	21969000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1081077
+SHUFFLE	COMPRESS_BYTE_COUNT	364794
+SHUFFLE	COPY_MAP_DATA	20857000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1117216
+SHUFFLE	COMPRESS_BYTE_COUNT	376502
+SHUFFLE	COPY_MAP_DATA	64353000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1150533
+SHUFFLE	COMPRESS_BYTE_COUNT	389049
+SHUFFLE	COPY_MAP_DATA	32512000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1087605
+SHUFFLE	COMPRESS_BYTE_COUNT	367164
+SHUFFLE	COPY_MAP_DATA	21992000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1181512
+SHUFFLE	COMPRESS_BYTE_COUNT	391417
+SHUFFLE	COPY_MAP_DATA	24678000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1119096
+SHUFFLE	COMPRESS_BYTE_COUNT	377432
+SHUFFLE	COPY_MAP_DATA	190499000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	950714
+SHUFFLE	COMPRESS_BYTE_COUNT	317295
+SHUFFLE	COPY_MAP_DATA	41706000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1135553
+SHUFFLE	COMPRESS_BYTE_COUNT	384395
+SHUFFLE	COPY_MAP_DATA	277287000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1233616
+SHUFFLE	COMPRESS_BYTE_COUNT	411013
+SHUFFLE	COPY_MAP_DATA	22631000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1102707
+SHUFFLE	COMPRESS_BYTE_COUNT	374358
+SHUFFLE	COPY_MAP_DATA	108512000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1070764
+SHUFFLE	COMPRESS_BYTE_COUNT	361216
+SHUFFLE	COPY_MAP_DATA	61391000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1112567
+SHUFFLE	COMPRESS_BYTE_COUNT	377528
+SHUFFLE	COPY_MAP_DATA	340460000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1063608
+SHUFFLE	COMPRESS_BYTE_COUNT	358984
+SHUFFLE	COPY_MAP_DATA	20835000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1002582
+SHUFFLE	COMPRESS_BYTE_COUNT	337682
+SHUFFLE	COPY_MAP_DATA	20137000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1108710
+SHUFFLE	COMPRESS_BYTE_COUNT	373598
+SHUFFLE	COPY_MAP_DATA	254279000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1088295
+SHUFFLE	COMPRESS_BYTE_COUNT	367350
+SHUFFLE	COPY_MAP_DATA	19825000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1005495
+SHUFFLE	COMPRESS_BYTE_COUNT	338616
+SHUFFLE	COPY_MAP_DATA	53583000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1097564
+SHUFFLE	COMPRESS_BYTE_COUNT	371144
+SHUFFLE	COPY_MAP_DATA	40318000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1108408
+SHUFFLE	COMPRESS_BYTE_COUNT	376436
+SHUFFLE	COPY_MAP_DATA	20015000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	755259
+SHUFFLE	COMPRESS_BYTE_COUNT	272010
+SHUFFLE	COPY_MAP_DATA	16255000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	757361
+SHUFFLE	COMPRESS_BYTE_COUNT	275040
+SHUFFLE	COPY_MAP_DATA	16977000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	758183
+SHUFFLE	COMPRESS_BYTE_COUNT	274573
+SHUFFLE	COPY_MAP_DATA	61139000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	779046
+SHUFFLE	COMPRESS_BYTE_COUNT	285334
+SHUFFLE	COPY_MAP_DATA	167010000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	841891
+SHUFFLE	COMPRESS_BYTE_COUNT	291846
+SHUFFLE	COPY_MAP_DATA	301877000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	794183
+SHUFFLE	COMPRESS_BYTE_COUNT	287561
+SHUFFLE	COPY_MAP_DATA	183645000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	794157
+SHUFFLE	COMPRESS_BYTE_COUNT	287947
+SHUFFLE	COPY_MAP_DATA	16971000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	757027
+SHUFFLE	COMPRESS_BYTE_COUNT	270813
+SHUFFLE	COPY_MAP_DATA	16449000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1022272
+SHUFFLE	COMPRESS_BYTE_COUNT	352958
+SHUFFLE	COPY_MAP_DATA	80592000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	845875
+SHUFFLE	COMPRESS_BYTE_COUNT	291217
+SHUFFLE	COPY_MAP_DATA	56113000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	785122
+SHUFFLE	COMPRESS_BYTE_COUNT	285179
+SHUFFLE	COPY_MAP_DATA	48404000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	744904
+SHUFFLE	COMPRESS_BYTE_COUNT	270024
+SHUFFLE	COPY_MAP_DATA	14850000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	768408
+SHUFFLE	COMPRESS_BYTE_COUNT	279778
+SHUFFLE	COPY_MAP_DATA	16737000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	711072
+SHUFFLE	COMPRESS_BYTE_COUNT	259419
+SHUFFLE	COPY_MAP_DATA	15582000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	744591
+SHUFFLE	COMPRESS_BYTE_COUNT	271002
+SHUFFLE	COPY_MAP_DATA	13433000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1040976
+SHUFFLE	COMPRESS_BYTE_COUNT	358093
+SHUFFLE	COPY_MAP_DATA	20748000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	738836
+SHUFFLE	COMPRESS_BYTE_COUNT	269055
+SHUFFLE	COPY_MAP_DATA	49766000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	748015
+SHUFFLE	COMPRESS_BYTE_COUNT	273530
+SHUFFLE	COPY_MAP_DATA	31052000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	841313
+SHUFFLE	COMPRESS_BYTE_COUNT	296266
+SHUFFLE	COPY_MAP_DATA	7819658000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	772031
+SHUFFLE	COMPRESS_BYTE_COUNT	278541
+SHUFFLE	COPY_MAP_DATA	112375000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	779292
+SHUFFLE	COMPRESS_BYTE_COUNT	282970
+SHUFFLE	COPY_MAP_DATA	17902000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	965340
+SHUFFLE	COMPRESS_BYTE_COUNT	334175
+SHUFFLE	COPY_MAP_DATA	24093000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1119785
+SHUFFLE	COMPRESS_BYTE_COUNT	379278
+SHUFFLE	COPY_MAP_DATA	373479000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1109167
+SHUFFLE	COMPRESS_BYTE_COUNT	375695
+SHUFFLE	COPY_MAP_DATA	21154000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1097796
+SHUFFLE	COMPRESS_BYTE_COUNT	372361
+SHUFFLE	COPY_MAP_DATA	20453000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	740218
+SHUFFLE	COMPRESS_BYTE_COUNT	269245
+SHUFFLE	COPY_MAP_DATA	323105000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	750529
+SHUFFLE	COMPRESS_BYTE_COUNT	269079
+SHUFFLE	COPY_MAP_DATA	15620000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	956047
+SHUFFLE	COMPRESS_BYTE_COUNT	330350
+SHUFFLE	COPY_MAP_DATA	18613000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1151790
+SHUFFLE	COMPRESS_BYTE_COUNT	392391
+SHUFFLE	COPY_MAP_DATA	35940000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	219329
+SHUFFLE	COMPRESS_BYTE_COUNT	96161
+SHUFFLE	COPY_MAP_DATA	530371000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	721947
+SHUFFLE	COMPRESS_BYTE_COUNT	261931
+SHUFFLE	COPY_MAP_DATA	14593000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1117791
+SHUFFLE	COMPRESS_BYTE_COUNT	378295
+SHUFFLE	COPY_MAP_DATA	20295000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	748436
+SHUFFLE	COMPRESS_BYTE_COUNT	271929
+SHUFFLE	COPY_MAP_DATA	13911000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	311065
+SHUFFLE	COMPRESS_BYTE_COUNT	127466
+SHUFFLE	COPY_MAP_DATA	831563000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	241121
+SHUFFLE	COMPRESS_BYTE_COUNT	104480
+SHUFFLE	COPY_MAP_DATA	40344000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	351340
+SHUFFLE	COMPRESS_BYTE_COUNT	140017
+SHUFFLE	COPY_MAP_DATA	76106000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	407925
+SHUFFLE	COMPRESS_BYTE_COUNT	160732
+SHUFFLE	COPY_MAP_DATA	339991000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	203451
+SHUFFLE	COMPRESS_BYTE_COUNT	88663
+SHUFFLE	COPY_MAP_DATA	674746000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	748037
+SHUFFLE	COMPRESS_BYTE_COUNT	272257
+SHUFFLE	COPY_MAP_DATA	16629000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	185287
+SHUFFLE	COMPRESS_BYTE_COUNT	80891
+SHUFFLE	COPY_MAP_DATA	19721000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	733216
+SHUFFLE	COMPRESS_BYTE_COUNT	267947
+SHUFFLE	COPY_MAP_DATA	15603000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	216175
+SHUFFLE	COMPRESS_BYTE_COUNT	92295
+SHUFFLE	COPY_MAP_DATA	77611000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	168153
+SHUFFLE	COMPRESS_BYTE_COUNT	73917
+SHUFFLE	COPY_MAP_DATA	6512000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	468289
+SHUFFLE	COMPRESS_BYTE_COUNT	181239
+SHUFFLE	COPY_MAP_DATA	1083546000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	139071
+SHUFFLE	COMPRESS_BYTE_COUNT	60976
+SHUFFLE	COPY_MAP_DATA	16393000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	640443
+SHUFFLE	COMPRESS_BYTE_COUNT	236623
+SHUFFLE	COPY_MAP_DATA	126196000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	736972
+SHUFFLE	COMPRESS_BYTE_COUNT	268760
+SHUFFLE	COPY_MAP_DATA	179653000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	722076
+SHUFFLE	COMPRESS_BYTE_COUNT	262626
+SHUFFLE	COPY_MAP_DATA	14157000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	717295
+SHUFFLE	COMPRESS_BYTE_COUNT	261135
+SHUFFLE	COPY_MAP_DATA	36170000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	655254
+SHUFFLE	COMPRESS_BYTE_COUNT	238893
+SHUFFLE	COPY_MAP_DATA	53652000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	660605
+SHUFFLE	COMPRESS_BYTE_COUNT	241836
+SHUFFLE	COPY_MAP_DATA	53771000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	513272
+SHUFFLE	COMPRESS_BYTE_COUNT	197521
+SHUFFLE	COPY_MAP_DATA	94205000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	445747
+SHUFFLE	COMPRESS_BYTE_COUNT	172124
+SHUFFLE	COPY_MAP_DATA	20408000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	653111
+SHUFFLE	COMPRESS_BYTE_COUNT	241744
+SHUFFLE	COPY_MAP_DATA	95009000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	485543
+SHUFFLE	COMPRESS_BYTE_COUNT	188034
+SHUFFLE	COPY_MAP_DATA	15944000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	714987
+SHUFFLE	COMPRESS_BYTE_COUNT	262097
+SHUFFLE	COPY_MAP_DATA	14971000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	632811
+SHUFFLE	COMPRESS_BYTE_COUNT	236852
+SHUFFLE	COPY_MAP_DATA	13474000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	406442
+SHUFFLE	COMPRESS_BYTE_COUNT	158551
+SHUFFLE	COPY_MAP_DATA	24205000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	701976
+SHUFFLE	COMPRESS_BYTE_COUNT	255608
+SHUFFLE	COPY_MAP_DATA	13784000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	729931
+SHUFFLE	COMPRESS_BYTE_COUNT	266128
+SHUFFLE	COPY_MAP_DATA	16346000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	573744
+SHUFFLE	COMPRESS_BYTE_COUNT	220599
+SHUFFLE	COPY_MAP_DATA	13731000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	315899
+SHUFFLE	COMPRESS_BYTE_COUNT	111925
+SHUFFLE	COPY_MAP_DATA	10200000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	697403
+SHUFFLE	COMPRESS_BYTE_COUNT	255806
+SHUFFLE	COPY_MAP_DATA	14626000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	502881
+SHUFFLE	COMPRESS_BYTE_COUNT	193509
+SHUFFLE	COPY_MAP_DATA	12019000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	667950
+SHUFFLE	COMPRESS_BYTE_COUNT	246342
+SHUFFLE	COPY_MAP_DATA	12917000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	528869
+SHUFFLE	COMPRESS_BYTE_COUNT	204388
+SHUFFLE	COPY_MAP_DATA	11613000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	746312
+SHUFFLE	COMPRESS_BYTE_COUNT	269609
+SHUFFLE	COPY_MAP_DATA	15594000
+SHUFFLE	UNCOMPRESS	0
+SORT	MERGE_MAP_DATA	34541879925
+SORT	READ_WRITE	34453564925
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	80992656
+REDUCE	SETUP	354000
+REDUCE	SETUP_MEM	80992656
+REDUCE	CLEANUP	25000
+REDUCE	CLEANUP_MEM	87656200
+REDUCE	TOTAL_RUN	19504418000
+REDUCE	READ	918897000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	10786670000
+REDUCE	WRITE	3291276000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	11649150
+REDUCE	VALUE_BYTE_COUNT	1194028
+REDUCE	REDUCE_MEM	87656200
+REDUCE	WRITE	7853000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	561812169325
@@ -0,0 +1,410 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	993200
+SHUFFLE	COMPRESS_BYTE_COUNT	332041
+SHUFFLE	COPY_MAP_DATA	373075000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	795104
+SHUFFLE	COMPRESS_BYTE_COUNT	288509
+SHUFFLE	COPY_MAP_DATA	18737000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1069291
+SHUFFLE	COMPRESS_BYTE_COUNT	366535
+SHUFFLE	COPY_MAP_DATA	2283084000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1113618
+SHUFFLE	COMPRESS_BYTE_COUNT	376359
+SHUFFLE	COPY_MAP_DATA	28790000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1126349
+SHUFFLE	COMPRESS_BYTE_COUNT	384209
+SHUFFLE	COPY_MAP_DATA	351540000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1095902
+SHUFFLE	COMPRESS_BYTE_COUNT	371961
+SHUFFLE	COPY_MAP_DATA	259612000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1121130
+SHUFFLE	COMPRESS_BYTE_COUNT	380961
+SHUFFLE	COPY_MAP_DATA	37775000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1115152
+SHUFFLE	COMPRESS_BYTE_COUNT	378233
+SHUFFLE	COPY_MAP_DATA	76845000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	791441
+SHUFFLE	COMPRESS_BYTE_COUNT	287815
+SHUFFLE	COPY_MAP_DATA	16797000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1142423
+SHUFFLE	COMPRESS_BYTE_COUNT	387592
+SHUFFLE	COPY_MAP_DATA	1246560000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1013264
+SHUFFLE	COMPRESS_BYTE_COUNT	348678
+SHUFFLE	COPY_MAP_DATA	39151000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1134053
+SHUFFLE	COMPRESS_BYTE_COUNT	383996
+SHUFFLE	COPY_MAP_DATA	125811000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1083543
+SHUFFLE	COMPRESS_BYTE_COUNT	366175
+SHUFFLE	COPY_MAP_DATA	98439000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1113572
+SHUFFLE	COMPRESS_BYTE_COUNT	375337
+SHUFFLE	COPY_MAP_DATA	57706000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1166569
+SHUFFLE	COMPRESS_BYTE_COUNT	387168
+SHUFFLE	COPY_MAP_DATA	62838000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1118633
+SHUFFLE	COMPRESS_BYTE_COUNT	378640
+SHUFFLE	COPY_MAP_DATA	24232000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1089083
+SHUFFLE	COMPRESS_BYTE_COUNT	367526
+SHUFFLE	COPY_MAP_DATA	48128000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1123069
+SHUFFLE	COMPRESS_BYTE_COUNT	379757
+SHUFFLE	COPY_MAP_DATA	149875000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	946959
+SHUFFLE	COMPRESS_BYTE_COUNT	317555
+SHUFFLE	COPY_MAP_DATA	19881000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1096755
+SHUFFLE	COMPRESS_BYTE_COUNT	372164
+SHUFFLE	COPY_MAP_DATA	47890000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1234171
+SHUFFLE	COMPRESS_BYTE_COUNT	412538
+SHUFFLE	COPY_MAP_DATA	23491000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1075785
+SHUFFLE	COMPRESS_BYTE_COUNT	363294
+SHUFFLE	COPY_MAP_DATA	20791000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1102571
+SHUFFLE	COMPRESS_BYTE_COUNT	375056
+SHUFFLE	COPY_MAP_DATA	24291000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1108235
+SHUFFLE	COMPRESS_BYTE_COUNT	374458
+SHUFFLE	COPY_MAP_DATA	39788000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1005421
+SHUFFLE	COMPRESS_BYTE_COUNT	339984
+SHUFFLE	COPY_MAP_DATA	40811000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1059535
+SHUFFLE	COMPRESS_BYTE_COUNT	357938
+SHUFFLE	COPY_MAP_DATA	50262000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1080370
+SHUFFLE	COMPRESS_BYTE_COUNT	364900
+SHUFFLE	COPY_MAP_DATA	18869000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1002646
+SHUFFLE	COMPRESS_BYTE_COUNT	337787
+SHUFFLE	COPY_MAP_DATA	182759000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1083605
+SHUFFLE	COMPRESS_BYTE_COUNT	367329
+SHUFFLE	COPY_MAP_DATA	111160000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1113719
+SHUFFLE	COMPRESS_BYTE_COUNT	378324
+SHUFFLE	COPY_MAP_DATA	88337000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	746751
+SHUFFLE	COMPRESS_BYTE_COUNT	268555
+SHUFFLE	COPY_MAP_DATA	110552000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	749263
+SHUFFLE	COMPRESS_BYTE_COUNT	272176
+SHUFFLE	COPY_MAP_DATA	585536000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	759501
+SHUFFLE	COMPRESS_BYTE_COUNT	275738
+SHUFFLE	COPY_MAP_DATA	2374410000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	778070
+SHUFFLE	COMPRESS_BYTE_COUNT	283910
+SHUFFLE	COPY_MAP_DATA	1732885000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	789461
+SHUFFLE	COMPRESS_BYTE_COUNT	286565
+SHUFFLE	COPY_MAP_DATA	17091000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	838914
+SHUFFLE	COMPRESS_BYTE_COUNT	292389
+SHUFFLE	COPY_MAP_DATA	49841000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	794953
+SHUFFLE	COMPRESS_BYTE_COUNT	289580
+SHUFFLE	COPY_MAP_DATA	110972000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	754671
+SHUFFLE	COMPRESS_BYTE_COUNT	270441
+SHUFFLE	COPY_MAP_DATA	142669000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	839072
+SHUFFLE	COMPRESS_BYTE_COUNT	291115
+SHUFFLE	COPY_MAP_DATA	262486000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	780829
+SHUFFLE	COMPRESS_BYTE_COUNT	283642
+SHUFFLE	COPY_MAP_DATA	358573000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1013866
+SHUFFLE	COMPRESS_BYTE_COUNT	349861
+SHUFFLE	COPY_MAP_DATA	322038000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	743383
+SHUFFLE	COMPRESS_BYTE_COUNT	270204
+SHUFFLE	COPY_MAP_DATA	43895000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	770983
+SHUFFLE	COMPRESS_BYTE_COUNT	282443
+SHUFFLE	COPY_MAP_DATA	16036000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	706780
+SHUFFLE	COMPRESS_BYTE_COUNT	258110
+SHUFFLE	COPY_MAP_DATA	14092000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	739599
+SHUFFLE	COMPRESS_BYTE_COUNT	269807
+SHUFFLE	COPY_MAP_DATA	54484000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	852308
+SHUFFLE	COMPRESS_BYTE_COUNT	301767
+SHUFFLE	COPY_MAP_DATA	6427886000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1035943
+SHUFFLE	COMPRESS_BYTE_COUNT	356533
+SHUFFLE	COPY_MAP_DATA	53683000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	742184
+SHUFFLE	COMPRESS_BYTE_COUNT	270396
+SHUFFLE	COPY_MAP_DATA	18066000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	743076
+SHUFFLE	COMPRESS_BYTE_COUNT	271510
+SHUFFLE	COPY_MAP_DATA	20019000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	773844
+SHUFFLE	COMPRESS_BYTE_COUNT	280243
+SHUFFLE	COPY_MAP_DATA	14924000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	771497
+SHUFFLE	COMPRESS_BYTE_COUNT	279884
+SHUFFLE	COPY_MAP_DATA	28532000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	964193
+SHUFFLE	COMPRESS_BYTE_COUNT	335002
+SHUFFLE	COPY_MAP_DATA	142326000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1104940
+SHUFFLE	COMPRESS_BYTE_COUNT	375349
+SHUFFLE	COPY_MAP_DATA	20262000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1114322
+SHUFFLE	COMPRESS_BYTE_COUNT	377944
+SHUFFLE	COPY_MAP_DATA	651811000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	737351
+SHUFFLE	COMPRESS_BYTE_COUNT	268294
+SHUFFLE	COPY_MAP_DATA	166526000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1108578
+SHUFFLE	COMPRESS_BYTE_COUNT	375086
+SHUFFLE	COPY_MAP_DATA	128265000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	750945
+SHUFFLE	COMPRESS_BYTE_COUNT	270121
+SHUFFLE	COPY_MAP_DATA	80180000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	958601
+SHUFFLE	COMPRESS_BYTE_COUNT	333999
+SHUFFLE	COPY_MAP_DATA	219397000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	218030
+SHUFFLE	COMPRESS_BYTE_COUNT	95674
+SHUFFLE	COPY_MAP_DATA	1320188000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1145710
+SHUFFLE	COMPRESS_BYTE_COUNT	392025
+SHUFFLE	COPY_MAP_DATA	26466000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	723412
+SHUFFLE	COMPRESS_BYTE_COUNT	263453
+SHUFFLE	COPY_MAP_DATA	2646713000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1114262
+SHUFFLE	COMPRESS_BYTE_COUNT	376956
+SHUFFLE	COPY_MAP_DATA	24016000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	752206
+SHUFFLE	COMPRESS_BYTE_COUNT	274152
+SHUFFLE	COPY_MAP_DATA	22443000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	307828
+SHUFFLE	COMPRESS_BYTE_COUNT	126217
+SHUFFLE	COPY_MAP_DATA	9165000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	241336
+SHUFFLE	COMPRESS_BYTE_COUNT	104302
+SHUFFLE	COPY_MAP_DATA	8284000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	353009
+SHUFFLE	COMPRESS_BYTE_COUNT	141250
+SHUFFLE	COPY_MAP_DATA	9684000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	408862
+SHUFFLE	COMPRESS_BYTE_COUNT	160232
+SHUFFLE	COPY_MAP_DATA	10338000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	203229
+SHUFFLE	COMPRESS_BYTE_COUNT	88561
+SHUFFLE	COPY_MAP_DATA	32536000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	745704
+SHUFFLE	COMPRESS_BYTE_COUNT	272204
+SHUFFLE	COPY_MAP_DATA	16131000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	185196
+SHUFFLE	COMPRESS_BYTE_COUNT	80809
+SHUFFLE	COPY_MAP_DATA	7629000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	466602
+SHUFFLE	COMPRESS_BYTE_COUNT	180644
+SHUFFLE	COPY_MAP_DATA	2323518000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	730863
+SHUFFLE	COMPRESS_BYTE_COUNT	267545
+SHUFFLE	COPY_MAP_DATA	139477000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	213881
+SHUFFLE	COMPRESS_BYTE_COUNT	91400
+SHUFFLE	COPY_MAP_DATA	297480000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	168024
+SHUFFLE	COMPRESS_BYTE_COUNT	73568
+SHUFFLE	COPY_MAP_DATA	194011000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	137828
+SHUFFLE	COMPRESS_BYTE_COUNT	60652
+SHUFFLE	COPY_MAP_DATA	4642000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	739840
+SHUFFLE	COMPRESS_BYTE_COUNT	269696
+SHUFFLE	COPY_MAP_DATA	704361000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	639457
+SHUFFLE	COMPRESS_BYTE_COUNT	236657
+SHUFFLE	COPY_MAP_DATA	13578000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	711203
+SHUFFLE	COMPRESS_BYTE_COUNT	259643
+SHUFFLE	COPY_MAP_DATA	14807000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	654333
+SHUFFLE	COMPRESS_BYTE_COUNT	239885
+SHUFFLE	COPY_MAP_DATA	31223000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	711245
+SHUFFLE	COMPRESS_BYTE_COUNT	259303
+SHUFFLE	COPY_MAP_DATA	14510000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	448386
+SHUFFLE	COMPRESS_BYTE_COUNT	173106
+SHUFFLE	COPY_MAP_DATA	894971000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	509602
+SHUFFLE	COMPRESS_BYTE_COUNT	196507
+SHUFFLE	COPY_MAP_DATA	12213000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	650196
+SHUFFLE	COMPRESS_BYTE_COUNT	238358
+SHUFFLE	COPY_MAP_DATA	179385000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	635471
+SHUFFLE	COMPRESS_BYTE_COUNT	238241
+SHUFFLE	COPY_MAP_DATA	13744000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	710157
+SHUFFLE	COMPRESS_BYTE_COUNT	259582
+SHUFFLE	COPY_MAP_DATA	58609000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	646121
+SHUFFLE	COMPRESS_BYTE_COUNT	239844
+SHUFFLE	COPY_MAP_DATA	12564000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	481899
+SHUFFLE	COMPRESS_BYTE_COUNT	186729
+SHUFFLE	COPY_MAP_DATA	11146000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	702287
+SHUFFLE	COMPRESS_BYTE_COUNT	256840
+SHUFFLE	COPY_MAP_DATA	14092000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	407255
+SHUFFLE	COMPRESS_BYTE_COUNT	159209
+SHUFFLE	COPY_MAP_DATA	10170000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	722304
+SHUFFLE	COMPRESS_BYTE_COUNT	262368
+SHUFFLE	COPY_MAP_DATA	19820000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	575107
+SHUFFLE	COMPRESS_BYTE_COUNT	221559
+SHUFFLE	COPY_MAP_DATA	13776000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	688634
+SHUFFLE	COMPRESS_BYTE_COUNT	252875
+SHUFFLE	COPY_MAP_DATA	26906000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	498766
+SHUFFLE	COMPRESS_BYTE_COUNT	192471
+SHUFFLE	COPY_MAP_DATA	11626000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	661366
+SHUFFLE	COMPRESS_BYTE_COUNT	244147
+SHUFFLE	COPY_MAP_DATA	12811000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	313719
+SHUFFLE	COMPRESS_BYTE_COUNT	111284
+SHUFFLE	COPY_MAP_DATA	8624000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	525094
+SHUFFLE	COMPRESS_BYTE_COUNT	203400
+SHUFFLE	COPY_MAP_DATA	31039000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	741462
+SHUFFLE	COMPRESS_BYTE_COUNT	268285
+SHUFFLE	COPY_MAP_DATA	16632000
+SHUFFLE	UNCOMPRESS	0
+SORT	MERGE_MAP_DATA	32157813000
+SORT	READ_WRITE	32054905000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	106892824
+REDUCE	SETUP	335000
+REDUCE	SETUP_MEM	106892824
+REDUCE	CLEANUP	25000
+REDUCE	CLEANUP_MEM	90252688
+REDUCE	TOTAL_RUN	15410109000
+REDUCE	READ	931246000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	9098861000
+REDUCE	WRITE	2541439000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	11677842
+REDUCE	VALUE_BYTE_COUNT	1196302
+REDUCE	REDUCE_MEM	90254736
+REDUCE	WRITE	19787000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	557475902116
@@ -0,0 +1,410 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	994046
+SHUFFLE	COMPRESS_BYTE_COUNT	331682
+SHUFFLE	COPY_MAP_DATA	2452892000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1126379
+SHUFFLE	COMPRESS_BYTE_COUNT	381919
+SHUFFLE	COPY_MAP_DATA	50873000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1119653
+SHUFFLE	COMPRESS_BYTE_COUNT	378901
+SHUFFLE	COPY_MAP_DATA	30538000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	798760
+SHUFFLE	COMPRESS_BYTE_COUNT	288510
+SHUFFLE	COPY_MAP_DATA	23574000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1078754
+SHUFFLE	COMPRESS_BYTE_COUNT	368388
+SHUFFLE	COPY_MAP_DATA	219511000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1135075
+SHUFFLE	COMPRESS_BYTE_COUNT	384891
+SHUFFLE	COPY_MAP_DATA	587690000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1102592
+SHUFFLE	COMPRESS_BYTE_COUNT	373145
+SHUFFLE	COPY_MAP_DATA	117306000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	795481
+SHUFFLE	COMPRESS_BYTE_COUNT	288926
+SHUFFLE	COPY_MAP_DATA	144632000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1125386
+SHUFFLE	COMPRESS_BYTE_COUNT	382118
+SHUFFLE	COPY_MAP_DATA	369607000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1150761
+SHUFFLE	COMPRESS_BYTE_COUNT	388954
+SHUFFLE	COPY_MAP_DATA	21819000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1028330
+SHUFFLE	COMPRESS_BYTE_COUNT	353544
+SHUFFLE	COPY_MAP_DATA	64433000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1128992
+SHUFFLE	COMPRESS_BYTE_COUNT	380703
+SHUFFLE	COPY_MAP_DATA	42036000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1100787
+SHUFFLE	COMPRESS_BYTE_COUNT	371251
+SHUFFLE	COPY_MAP_DATA	40206000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1153352
+SHUFFLE	COMPRESS_BYTE_COUNT	390456
+SHUFFLE	COPY_MAP_DATA	43573000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1179519
+SHUFFLE	COMPRESS_BYTE_COUNT	391821
+SHUFFLE	COPY_MAP_DATA	65534000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1095271
+SHUFFLE	COMPRESS_BYTE_COUNT	370006
+SHUFFLE	COPY_MAP_DATA	65890000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1127112
+SHUFFLE	COMPRESS_BYTE_COUNT	380895
+SHUFFLE	COPY_MAP_DATA	22060000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1138807
+SHUFFLE	COMPRESS_BYTE_COUNT	384837
+SHUFFLE	COPY_MAP_DATA	22275000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	957627
+SHUFFLE	COMPRESS_BYTE_COUNT	319942
+SHUFFLE	COPY_MAP_DATA	37583000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1103409
+SHUFFLE	COMPRESS_BYTE_COUNT	373493
+SHUFFLE	COPY_MAP_DATA	125650000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1245347
+SHUFFLE	COMPRESS_BYTE_COUNT	415204
+SHUFFLE	COPY_MAP_DATA	22896000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1120820
+SHUFFLE	COMPRESS_BYTE_COUNT	380117
+SHUFFLE	COPY_MAP_DATA	997993000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1084088
+SHUFFLE	COMPRESS_BYTE_COUNT	365868
+SHUFFLE	COPY_MAP_DATA	32888000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1117094
+SHUFFLE	COMPRESS_BYTE_COUNT	376163
+SHUFFLE	COPY_MAP_DATA	20050000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1074372
+SHUFFLE	COMPRESS_BYTE_COUNT	362060
+SHUFFLE	COPY_MAP_DATA	413198000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1017605
+SHUFFLE	COMPRESS_BYTE_COUNT	342840
+SHUFFLE	COPY_MAP_DATA	70714000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1095088
+SHUFFLE	COMPRESS_BYTE_COUNT	369503
+SHUFFLE	COPY_MAP_DATA	84913000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1007579
+SHUFFLE	COMPRESS_BYTE_COUNT	338697
+SHUFFLE	COPY_MAP_DATA	32651000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1089896
+SHUFFLE	COMPRESS_BYTE_COUNT	367674
+SHUFFLE	COPY_MAP_DATA	459802000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1126768
+SHUFFLE	COMPRESS_BYTE_COUNT	382702
+SHUFFLE	COPY_MAP_DATA	368218000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	756561
+SHUFFLE	COMPRESS_BYTE_COUNT	272001
+SHUFFLE	COPY_MAP_DATA	229452000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	755720
+SHUFFLE	COMPRESS_BYTE_COUNT	273619
+SHUFFLE	COPY_MAP_DATA	16161000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	761659
+SHUFFLE	COMPRESS_BYTE_COUNT	276312
+SHUFFLE	COPY_MAP_DATA	112093000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	789499
+SHUFFLE	COMPRESS_BYTE_COUNT	287335
+SHUFFLE	COPY_MAP_DATA	17427000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	846805
+SHUFFLE	COMPRESS_BYTE_COUNT	293893
+SHUFFLE	COPY_MAP_DATA	63069000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	799971
+SHUFFLE	COMPRESS_BYTE_COUNT	288816
+SHUFFLE	COPY_MAP_DATA	19798000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	799583
+SHUFFLE	COMPRESS_BYTE_COUNT	290050
+SHUFFLE	COPY_MAP_DATA	17255000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	760195
+SHUFFLE	COMPRESS_BYTE_COUNT	271680
+SHUFFLE	COPY_MAP_DATA	2868096000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	852569
+SHUFFLE	COMPRESS_BYTE_COUNT	293700
+SHUFFLE	COPY_MAP_DATA	66662000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	781898
+SHUFFLE	COMPRESS_BYTE_COUNT	283210
+SHUFFLE	COPY_MAP_DATA	14969000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1023586
+SHUFFLE	COMPRESS_BYTE_COUNT	353904
+SHUFFLE	COPY_MAP_DATA	395882000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	747827
+SHUFFLE	COMPRESS_BYTE_COUNT	270423
+SHUFFLE	COPY_MAP_DATA	17668000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	711378
+SHUFFLE	COMPRESS_BYTE_COUNT	258140
+SHUFFLE	COPY_MAP_DATA	23327000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	785346
+SHUFFLE	COMPRESS_BYTE_COUNT	287543
+SHUFFLE	COPY_MAP_DATA	56973000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	753283
+SHUFFLE	COMPRESS_BYTE_COUNT	273601
+SHUFFLE	COPY_MAP_DATA	14982000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	861559
+SHUFFLE	COMPRESS_BYTE_COUNT	304859
+SHUFFLE	COPY_MAP_DATA	11559776000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1043362
+SHUFFLE	COMPRESS_BYTE_COUNT	357917
+SHUFFLE	COPY_MAP_DATA	61436000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	746896
+SHUFFLE	COMPRESS_BYTE_COUNT	271448
+SHUFFLE	COPY_MAP_DATA	83295000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	746441
+SHUFFLE	COMPRESS_BYTE_COUNT	272731
+SHUFFLE	COPY_MAP_DATA	14783000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	776576
+SHUFFLE	COMPRESS_BYTE_COUNT	281135
+SHUFFLE	COPY_MAP_DATA	81283000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	772139
+SHUFFLE	COMPRESS_BYTE_COUNT	278977
+SHUFFLE	COPY_MAP_DATA	20976000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	978740
+SHUFFLE	COMPRESS_BYTE_COUNT	338037
+SHUFFLE	COPY_MAP_DATA	19625000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1122241
+SHUFFLE	COMPRESS_BYTE_COUNT	380175
+SHUFFLE	COPY_MAP_DATA	21949000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1117658
+SHUFFLE	COMPRESS_BYTE_COUNT	378724
+SHUFFLE	COPY_MAP_DATA	208579000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	741485
+SHUFFLE	COMPRESS_BYTE_COUNT	269280
+SHUFFLE	COPY_MAP_DATA	514106000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1107050
+SHUFFLE	COMPRESS_BYTE_COUNT	377873
+SHUFFLE	COPY_MAP_DATA	146545000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	765810
+SHUFFLE	COMPRESS_BYTE_COUNT	275575
+SHUFFLE	COPY_MAP_DATA	32708000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	968854
+SHUFFLE	COMPRESS_BYTE_COUNT	335852
+SHUFFLE	COPY_MAP_DATA	34103000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1162479
+SHUFFLE	COMPRESS_BYTE_COUNT	397167
+SHUFFLE	COPY_MAP_DATA	26605000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	225370
+SHUFFLE	COMPRESS_BYTE_COUNT	98265
+SHUFFLE	COPY_MAP_DATA	16451000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	723315
+SHUFFLE	COMPRESS_BYTE_COUNT	262908
+SHUFFLE	COPY_MAP_DATA	16566000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1126670
+SHUFFLE	COMPRESS_BYTE_COUNT	381328
+SHUFFLE	COPY_MAP_DATA	98794000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	758979
+SHUFFLE	COMPRESS_BYTE_COUNT	276520
+SHUFFLE	COPY_MAP_DATA	15590000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	313546
+SHUFFLE	COMPRESS_BYTE_COUNT	128912
+SHUFFLE	COPY_MAP_DATA	1035752000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	242659
+SHUFFLE	COMPRESS_BYTE_COUNT	104870
+SHUFFLE	COPY_MAP_DATA	266228000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	355497
+SHUFFLE	COMPRESS_BYTE_COUNT	141744
+SHUFFLE	COPY_MAP_DATA	488739000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	408601
+SHUFFLE	COMPRESS_BYTE_COUNT	161142
+SHUFFLE	COPY_MAP_DATA	31598000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	208785
+SHUFFLE	COMPRESS_BYTE_COUNT	91106
+SHUFFLE	COPY_MAP_DATA	198826000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	758081
+SHUFFLE	COMPRESS_BYTE_COUNT	276057
+SHUFFLE	COPY_MAP_DATA	16195000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	187197
+SHUFFLE	COMPRESS_BYTE_COUNT	81576
+SHUFFLE	COPY_MAP_DATA	120836000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	471837
+SHUFFLE	COMPRESS_BYTE_COUNT	182713
+SHUFFLE	COPY_MAP_DATA	200117000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	736626
+SHUFFLE	COMPRESS_BYTE_COUNT	268491
+SHUFFLE	COPY_MAP_DATA	15472000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	218498
+SHUFFLE	COMPRESS_BYTE_COUNT	93337
+SHUFFLE	COPY_MAP_DATA	6966000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	170786
+SHUFFLE	COMPRESS_BYTE_COUNT	74961
+SHUFFLE	COPY_MAP_DATA	5892000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	140359
+SHUFFLE	COMPRESS_BYTE_COUNT	61648
+SHUFFLE	COPY_MAP_DATA	4981000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	645483
+SHUFFLE	COMPRESS_BYTE_COUNT	237450
+SHUFFLE	COPY_MAP_DATA	13129000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	745795
+SHUFFLE	COMPRESS_BYTE_COUNT	271921
+SHUFFLE	COPY_MAP_DATA	16215000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	722740
+SHUFFLE	COMPRESS_BYTE_COUNT	262883
+SHUFFLE	COPY_MAP_DATA	14320000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	660787
+SHUFFLE	COMPRESS_BYTE_COUNT	240540
+SHUFFLE	COPY_MAP_DATA	23409000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	721273
+SHUFFLE	COMPRESS_BYTE_COUNT	262474
+SHUFFLE	COPY_MAP_DATA	15438000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	665855
+SHUFFLE	COMPRESS_BYTE_COUNT	243657
+SHUFFLE	COPY_MAP_DATA	16308000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	444770
+SHUFFLE	COMPRESS_BYTE_COUNT	171731
+SHUFFLE	COPY_MAP_DATA	11374000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	518292
+SHUFFLE	COMPRESS_BYTE_COUNT	199957
+SHUFFLE	COPY_MAP_DATA	12109000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	485421
+SHUFFLE	COMPRESS_BYTE_COUNT	187931
+SHUFFLE	COPY_MAP_DATA	12093000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	653580
+SHUFFLE	COMPRESS_BYTE_COUNT	241369
+SHUFFLE	COPY_MAP_DATA	98171000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	637459
+SHUFFLE	COMPRESS_BYTE_COUNT	238695
+SHUFFLE	COPY_MAP_DATA	14415000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	713451
+SHUFFLE	COMPRESS_BYTE_COUNT	260939
+SHUFFLE	COPY_MAP_DATA	15427000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	710741
+SHUFFLE	COMPRESS_BYTE_COUNT	259557
+SHUFFLE	COPY_MAP_DATA	14576000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	410628
+SHUFFLE	COMPRESS_BYTE_COUNT	160193
+SHUFFLE	COPY_MAP_DATA	10694000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	729456
+SHUFFLE	COMPRESS_BYTE_COUNT	264946
+SHUFFLE	COPY_MAP_DATA	32802000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	577325
+SHUFFLE	COMPRESS_BYTE_COUNT	222098
+SHUFFLE	COPY_MAP_DATA	13883000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	505597
+SHUFFLE	COMPRESS_BYTE_COUNT	194767
+SHUFFLE	COPY_MAP_DATA	12133000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	695755
+SHUFFLE	COMPRESS_BYTE_COUNT	254135
+SHUFFLE	COPY_MAP_DATA	14684000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	670969
+SHUFFLE	COMPRESS_BYTE_COUNT	247194
+SHUFFLE	COPY_MAP_DATA	13717000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	528845
+SHUFFLE	COMPRESS_BYTE_COUNT	204212
+SHUFFLE	COPY_MAP_DATA	12611000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	316490
+SHUFFLE	COMPRESS_BYTE_COUNT	112726
+SHUFFLE	COPY_MAP_DATA	23515000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	749386
+SHUFFLE	COMPRESS_BYTE_COUNT	270056
+SHUFFLE	COPY_MAP_DATA	17011000
+SHUFFLE	UNCOMPRESS	0
+SORT	MERGE_MAP_DATA	32594017000
+SORT	READ_WRITE	32520833000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	116328464
+REDUCE	SETUP	320000
+REDUCE	SETUP_MEM	116328464
+REDUCE	CLEANUP	30000
+REDUCE	CLEANUP_MEM	114688120
+REDUCE	TOTAL_RUN	17934886021
+REDUCE	READ	726106021
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	9911987000
+REDUCE	WRITE	2631711000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	11687438
+REDUCE	VALUE_BYTE_COUNT	1197304
+REDUCE	REDUCE_MEM	114688120
+REDUCE	WRITE	100881000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	558367653348
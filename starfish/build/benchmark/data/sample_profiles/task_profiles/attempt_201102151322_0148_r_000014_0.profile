@@ -0,0 +1,410 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1119561
+SHUFFLE	COMPRESS_BYTE_COUNT	380520
+SHUFFLE	COPY_MAP_DATA	929223000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	789795
+SHUFFLE	COMPRESS_BYTE_COUNT	286033
+SHUFFLE	COPY_MAP_DATA	17510000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1121645
+SHUFFLE	COMPRESS_BYTE_COUNT	381602
+SHUFFLE	COPY_MAP_DATA	23197000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1109992
+SHUFFLE	COMPRESS_BYTE_COUNT	375322
+SHUFFLE	COPY_MAP_DATA	103927000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	991006
+SHUFFLE	COMPRESS_BYTE_COUNT	331122
+SHUFFLE	COPY_MAP_DATA	118494000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1065988
+SHUFFLE	COMPRESS_BYTE_COUNT	365550
+SHUFFLE	COPY_MAP_DATA	29355000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	784148
+SHUFFLE	COMPRESS_BYTE_COUNT	285779
+SHUFFLE	COPY_MAP_DATA	60080000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1092436
+SHUFFLE	COMPRESS_BYTE_COUNT	369713
+SHUFFLE	COPY_MAP_DATA	60012000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1120162
+SHUFFLE	COMPRESS_BYTE_COUNT	380535
+SHUFFLE	COPY_MAP_DATA	155210000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1140644
+SHUFFLE	COMPRESS_BYTE_COUNT	386978
+SHUFFLE	COPY_MAP_DATA	23167000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1144135
+SHUFFLE	COMPRESS_BYTE_COUNT	387598
+SHUFFLE	COPY_MAP_DATA	74550000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1117187
+SHUFFLE	COMPRESS_BYTE_COUNT	376227
+SHUFFLE	COPY_MAP_DATA	24550000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1019169
+SHUFFLE	COMPRESS_BYTE_COUNT	350575
+SHUFFLE	COPY_MAP_DATA	20171000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1083789
+SHUFFLE	COMPRESS_BYTE_COUNT	366883
+SHUFFLE	COPY_MAP_DATA	23870000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1087348
+SHUFFLE	COMPRESS_BYTE_COUNT	368000
+SHUFFLE	COPY_MAP_DATA	45493000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1127901
+SHUFFLE	COMPRESS_BYTE_COUNT	382165
+SHUFFLE	COPY_MAP_DATA	31623000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1172804
+SHUFFLE	COMPRESS_BYTE_COUNT	388935
+SHUFFLE	COPY_MAP_DATA	1151776000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	947293
+SHUFFLE	COMPRESS_BYTE_COUNT	317704
+SHUFFLE	COPY_MAP_DATA	226555000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1118371
+SHUFFLE	COMPRESS_BYTE_COUNT	377563
+SHUFFLE	COPY_MAP_DATA	19444000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1096058
+SHUFFLE	COMPRESS_BYTE_COUNT	372599
+SHUFFLE	COPY_MAP_DATA	1080228000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1234807
+SHUFFLE	COMPRESS_BYTE_COUNT	412215
+SHUFFLE	COPY_MAP_DATA	66170000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1076208
+SHUFFLE	COMPRESS_BYTE_COUNT	363520
+SHUFFLE	COPY_MAP_DATA	23824000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1109638
+SHUFFLE	COMPRESS_BYTE_COUNT	377057
+SHUFFLE	COPY_MAP_DATA	3538396000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1107511
+SHUFFLE	COMPRESS_BYTE_COUNT	373781
+SHUFFLE	COPY_MAP_DATA	20259000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1002414
+SHUFFLE	COMPRESS_BYTE_COUNT	338737
+SHUFFLE	COPY_MAP_DATA	46609000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1060503
+SHUFFLE	COMPRESS_BYTE_COUNT	358716
+SHUFFLE	COPY_MAP_DATA	20171000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1004330
+SHUFFLE	COMPRESS_BYTE_COUNT	338992
+SHUFFLE	COPY_MAP_DATA	67263000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1085194
+SHUFFLE	COMPRESS_BYTE_COUNT	366840
+SHUFFLE	COPY_MAP_DATA	418458000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1085060
+SHUFFLE	COMPRESS_BYTE_COUNT	367570
+SHUFFLE	COPY_MAP_DATA	80215000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1112236
+SHUFFLE	COMPRESS_BYTE_COUNT	377219
+SHUFFLE	COPY_MAP_DATA	56708000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	747470
+SHUFFLE	COMPRESS_BYTE_COUNT	268484
+SHUFFLE	COPY_MAP_DATA	735027000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	751628
+SHUFFLE	COMPRESS_BYTE_COUNT	273431
+SHUFFLE	COPY_MAP_DATA	1118770000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	757174
+SHUFFLE	COMPRESS_BYTE_COUNT	274511
+SHUFFLE	COPY_MAP_DATA	710020000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	782558
+SHUFFLE	COMPRESS_BYTE_COUNT	284995
+SHUFFLE	COPY_MAP_DATA	36345000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	788141
+SHUFFLE	COMPRESS_BYTE_COUNT	285706
+SHUFFLE	COPY_MAP_DATA	8230755000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	840646
+SHUFFLE	COMPRESS_BYTE_COUNT	293191
+SHUFFLE	COPY_MAP_DATA	17388000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	791064
+SHUFFLE	COMPRESS_BYTE_COUNT	286540
+SHUFFLE	COPY_MAP_DATA	1374995000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	746401
+SHUFFLE	COMPRESS_BYTE_COUNT	267541
+SHUFFLE	COPY_MAP_DATA	2671492000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	779008
+SHUFFLE	COMPRESS_BYTE_COUNT	282905
+SHUFFLE	COPY_MAP_DATA	16305000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1016999
+SHUFFLE	COMPRESS_BYTE_COUNT	351823
+SHUFFLE	COPY_MAP_DATA	37166000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	846751
+SHUFFLE	COMPRESS_BYTE_COUNT	292668
+SHUFFLE	COPY_MAP_DATA	1977097000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	747322
+SHUFFLE	COMPRESS_BYTE_COUNT	270831
+SHUFFLE	COPY_MAP_DATA	47450000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	770822
+SHUFFLE	COMPRESS_BYTE_COUNT	282770
+SHUFFLE	COPY_MAP_DATA	16696000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	706829
+SHUFFLE	COMPRESS_BYTE_COUNT	257163
+SHUFFLE	COPY_MAP_DATA	14949000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	743874
+SHUFFLE	COMPRESS_BYTE_COUNT	271235
+SHUFFLE	COPY_MAP_DATA	16325000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1034153
+SHUFFLE	COMPRESS_BYTE_COUNT	356025
+SHUFFLE	COPY_MAP_DATA	26799000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	747602
+SHUFFLE	COMPRESS_BYTE_COUNT	272277
+SHUFFLE	COPY_MAP_DATA	1214012000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	843853
+SHUFFLE	COMPRESS_BYTE_COUNT	297696
+SHUFFLE	COPY_MAP_DATA	12209807000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	744099
+SHUFFLE	COMPRESS_BYTE_COUNT	271189
+SHUFFLE	COPY_MAP_DATA	40835000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	766251
+SHUFFLE	COMPRESS_BYTE_COUNT	276735
+SHUFFLE	COPY_MAP_DATA	25282000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	773241
+SHUFFLE	COMPRESS_BYTE_COUNT	281031
+SHUFFLE	COPY_MAP_DATA	16785000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	965936
+SHUFFLE	COMPRESS_BYTE_COUNT	334126
+SHUFFLE	COPY_MAP_DATA	54677000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	741336
+SHUFFLE	COMPRESS_BYTE_COUNT	268778
+SHUFFLE	COPY_MAP_DATA	80406000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1116896
+SHUFFLE	COMPRESS_BYTE_COUNT	378037
+SHUFFLE	COPY_MAP_DATA	76335000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1120970
+SHUFFLE	COMPRESS_BYTE_COUNT	379371
+SHUFFLE	COPY_MAP_DATA	72801000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1105456
+SHUFFLE	COMPRESS_BYTE_COUNT	376059
+SHUFFLE	COPY_MAP_DATA	47623000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	761214
+SHUFFLE	COMPRESS_BYTE_COUNT	273493
+SHUFFLE	COPY_MAP_DATA	168689000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	962229
+SHUFFLE	COMPRESS_BYTE_COUNT	332754
+SHUFFLE	COPY_MAP_DATA	19034000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1149031
+SHUFFLE	COMPRESS_BYTE_COUNT	393712
+SHUFFLE	COPY_MAP_DATA	63872000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	216662
+SHUFFLE	COMPRESS_BYTE_COUNT	94616
+SHUFFLE	COPY_MAP_DATA	1404673000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	717046
+SHUFFLE	COMPRESS_BYTE_COUNT	260814
+SHUFFLE	COPY_MAP_DATA	2820992000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	756347
+SHUFFLE	COMPRESS_BYTE_COUNT	276158
+SHUFFLE	COPY_MAP_DATA	312987000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1114192
+SHUFFLE	COMPRESS_BYTE_COUNT	377836
+SHUFFLE	COPY_MAP_DATA	100676000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	311218
+SHUFFLE	COMPRESS_BYTE_COUNT	127782
+SHUFFLE	COPY_MAP_DATA	9235000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	241814
+SHUFFLE	COMPRESS_BYTE_COUNT	104920
+SHUFFLE	COPY_MAP_DATA	2010603000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	351658
+SHUFFLE	COMPRESS_BYTE_COUNT	140783
+SHUFFLE	COPY_MAP_DATA	84596000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	206111
+SHUFFLE	COMPRESS_BYTE_COUNT	89636
+SHUFFLE	COPY_MAP_DATA	326031000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	406408
+SHUFFLE	COMPRESS_BYTE_COUNT	159963
+SHUFFLE	COPY_MAP_DATA	9647000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	750046
+SHUFFLE	COMPRESS_BYTE_COUNT	273146
+SHUFFLE	COPY_MAP_DATA	209608000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	181999
+SHUFFLE	COMPRESS_BYTE_COUNT	79379
+SHUFFLE	COPY_MAP_DATA	619994000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	725564
+SHUFFLE	COMPRESS_BYTE_COUNT	264938
+SHUFFLE	COPY_MAP_DATA	1049811000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	469257
+SHUFFLE	COMPRESS_BYTE_COUNT	181828
+SHUFFLE	COPY_MAP_DATA	11642000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	169927
+SHUFFLE	COMPRESS_BYTE_COUNT	74582
+SHUFFLE	COPY_MAP_DATA	6522000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	217548
+SHUFFLE	COMPRESS_BYTE_COUNT	93048
+SHUFFLE	COPY_MAP_DATA	9278000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	642406
+SHUFFLE	COMPRESS_BYTE_COUNT	237955
+SHUFFLE	COPY_MAP_DATA	134673000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	137825
+SHUFFLE	COMPRESS_BYTE_COUNT	60527
+SHUFFLE	COPY_MAP_DATA	327119000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	732822
+SHUFFLE	COMPRESS_BYTE_COUNT	267173
+SHUFFLE	COPY_MAP_DATA	155042000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	718943
+SHUFFLE	COMPRESS_BYTE_COUNT	262466
+SHUFFLE	COPY_MAP_DATA	13958000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	655577
+SHUFFLE	COMPRESS_BYTE_COUNT	239469
+SHUFFLE	COPY_MAP_DATA	13721000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	715430
+SHUFFLE	COMPRESS_BYTE_COUNT	261320
+SHUFFLE	COPY_MAP_DATA	13847000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	658421
+SHUFFLE	COMPRESS_BYTE_COUNT	241603
+SHUFFLE	COPY_MAP_DATA	14402000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	443920
+SHUFFLE	COMPRESS_BYTE_COUNT	170953
+SHUFFLE	COPY_MAP_DATA	11651000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	511231
+SHUFFLE	COMPRESS_BYTE_COUNT	197003
+SHUFFLE	COPY_MAP_DATA	11427000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	642009
+SHUFFLE	COMPRESS_BYTE_COUNT	237639
+SHUFFLE	COPY_MAP_DATA	13890000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	705168
+SHUFFLE	COMPRESS_BYTE_COUNT	257670
+SHUFFLE	COPY_MAP_DATA	15113000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	484551
+SHUFFLE	COMPRESS_BYTE_COUNT	187846
+SHUFFLE	COPY_MAP_DATA	19222000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	406954
+SHUFFLE	COMPRESS_BYTE_COUNT	158921
+SHUFFLE	COPY_MAP_DATA	10515000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	635645
+SHUFFLE	COMPRESS_BYTE_COUNT	238745
+SHUFFLE	COPY_MAP_DATA	13167000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	700619
+SHUFFLE	COMPRESS_BYTE_COUNT	255160
+SHUFFLE	COPY_MAP_DATA	13905000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	724051
+SHUFFLE	COMPRESS_BYTE_COUNT	263811
+SHUFFLE	COPY_MAP_DATA	15792000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	577258
+SHUFFLE	COMPRESS_BYTE_COUNT	222085
+SHUFFLE	COPY_MAP_DATA	12848000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	319390
+SHUFFLE	COMPRESS_BYTE_COUNT	113347
+SHUFFLE	COPY_MAP_DATA	8641000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	501280
+SHUFFLE	COMPRESS_BYTE_COUNT	193465
+SHUFFLE	COPY_MAP_DATA	10365000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	688645
+SHUFFLE	COMPRESS_BYTE_COUNT	251610
+SHUFFLE	COPY_MAP_DATA	14570000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	666069
+SHUFFLE	COMPRESS_BYTE_COUNT	244943
+SHUFFLE	COPY_MAP_DATA	12893000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	528182
+SHUFFLE	COMPRESS_BYTE_COUNT	205652
+SHUFFLE	COPY_MAP_DATA	12067000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	739945
+SHUFFLE	COMPRESS_BYTE_COUNT	266599
+SHUFFLE	COPY_MAP_DATA	15868000
+SHUFFLE	UNCOMPRESS	0
+SORT	MERGE_MAP_DATA	32299479000
+SORT	READ_WRITE	32226075000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	112638472
+REDUCE	SETUP	340000
+REDUCE	SETUP_MEM	112638472
+REDUCE	CLEANUP	28000
+REDUCE	CLEANUP_MEM	87435392
+REDUCE	TOTAL_RUN	14940137000
+REDUCE	READ	878872000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	8914088000
+REDUCE	WRITE	2511643000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	11645957
+REDUCE	VALUE_BYTE_COUNT	1193877
+REDUCE	REDUCE_MEM	87435392
+REDUCE	WRITE	306009000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	551234831249
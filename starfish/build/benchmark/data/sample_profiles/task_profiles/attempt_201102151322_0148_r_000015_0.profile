@@ -0,0 +1,410 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1115062
+SHUFFLE	COMPRESS_BYTE_COUNT	378058
+SHUFFLE	COPY_MAP_DATA	1228631000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1084543
+SHUFFLE	COMPRESS_BYTE_COUNT	366454
+SHUFFLE	COPY_MAP_DATA	41243000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1017333
+SHUFFLE	COMPRESS_BYTE_COUNT	350534
+SHUFFLE	COPY_MAP_DATA	30327000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1120492
+SHUFFLE	COMPRESS_BYTE_COUNT	381369
+SHUFFLE	COPY_MAP_DATA	26867000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1110605
+SHUFFLE	COMPRESS_BYTE_COUNT	374244
+SHUFFLE	COPY_MAP_DATA	152193000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	793807
+SHUFFLE	COMPRESS_BYTE_COUNT	287534
+SHUFFLE	COPY_MAP_DATA	96381000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	939775
+SHUFFLE	COMPRESS_BYTE_COUNT	314328
+SHUFFLE	COPY_MAP_DATA	38305000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1087486
+SHUFFLE	COMPRESS_BYTE_COUNT	368390
+SHUFFLE	COPY_MAP_DATA	24800000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1068425
+SHUFFLE	COMPRESS_BYTE_COUNT	366893
+SHUFFLE	COPY_MAP_DATA	882683000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1117392
+SHUFFLE	COMPRESS_BYTE_COUNT	380414
+SHUFFLE	COPY_MAP_DATA	71138000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	998207
+SHUFFLE	COMPRESS_BYTE_COUNT	334213
+SHUFFLE	COPY_MAP_DATA	18769000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	790393
+SHUFFLE	COMPRESS_BYTE_COUNT	287558
+SHUFFLE	COPY_MAP_DATA	16354000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1174303
+SHUFFLE	COMPRESS_BYTE_COUNT	389810
+SHUFFLE	COPY_MAP_DATA	32623000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1144213
+SHUFFLE	COMPRESS_BYTE_COUNT	388474
+SHUFFLE	COPY_MAP_DATA	84709000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1115117
+SHUFFLE	COMPRESS_BYTE_COUNT	377295
+SHUFFLE	COPY_MAP_DATA	22680000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1145464
+SHUFFLE	COMPRESS_BYTE_COUNT	387826
+SHUFFLE	COPY_MAP_DATA	82752000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1128085
+SHUFFLE	COMPRESS_BYTE_COUNT	382615
+SHUFFLE	COPY_MAP_DATA	34248000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1093742
+SHUFFLE	COMPRESS_BYTE_COUNT	370755
+SHUFFLE	COPY_MAP_DATA	43836000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1089371
+SHUFFLE	COMPRESS_BYTE_COUNT	369822
+SHUFFLE	COPY_MAP_DATA	163158000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1237133
+SHUFFLE	COMPRESS_BYTE_COUNT	413568
+SHUFFLE	COPY_MAP_DATA	25042000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1112318
+SHUFFLE	COMPRESS_BYTE_COUNT	377392
+SHUFFLE	COPY_MAP_DATA	589019000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1073414
+SHUFFLE	COMPRESS_BYTE_COUNT	363179
+SHUFFLE	COPY_MAP_DATA	19882000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1002048
+SHUFFLE	COMPRESS_BYTE_COUNT	338501
+SHUFFLE	COPY_MAP_DATA	116499000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1106224
+SHUFFLE	COMPRESS_BYTE_COUNT	374282
+SHUFFLE	COPY_MAP_DATA	20570000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1104586
+SHUFFLE	COMPRESS_BYTE_COUNT	375818
+SHUFFLE	COPY_MAP_DATA	20706000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1060268
+SHUFFLE	COMPRESS_BYTE_COUNT	357665
+SHUFFLE	COPY_MAP_DATA	22138000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1080011
+SHUFFLE	COMPRESS_BYTE_COUNT	363995
+SHUFFLE	COPY_MAP_DATA	19057000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1000774
+SHUFFLE	COMPRESS_BYTE_COUNT	338429
+SHUFFLE	COPY_MAP_DATA	18619000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1086733
+SHUFFLE	COMPRESS_BYTE_COUNT	368425
+SHUFFLE	COPY_MAP_DATA	2110224000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1114777
+SHUFFLE	COMPRESS_BYTE_COUNT	378697
+SHUFFLE	COPY_MAP_DATA	128224000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	751030
+SHUFFLE	COMPRESS_BYTE_COUNT	269910
+SHUFFLE	COPY_MAP_DATA	2662795000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	751611
+SHUFFLE	COMPRESS_BYTE_COUNT	274427
+SHUFFLE	COPY_MAP_DATA	1399179000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	751186
+SHUFFLE	COMPRESS_BYTE_COUNT	272947
+SHUFFLE	COPY_MAP_DATA	40110000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	772536
+SHUFFLE	COMPRESS_BYTE_COUNT	282602
+SHUFFLE	COPY_MAP_DATA	5428795000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	837769
+SHUFFLE	COMPRESS_BYTE_COUNT	291721
+SHUFFLE	COPY_MAP_DATA	26739000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	788438
+SHUFFLE	COMPRESS_BYTE_COUNT	285924
+SHUFFLE	COPY_MAP_DATA	98000000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	794667
+SHUFFLE	COMPRESS_BYTE_COUNT	288872
+SHUFFLE	COPY_MAP_DATA	17277000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	757410
+SHUFFLE	COMPRESS_BYTE_COUNT	272494
+SHUFFLE	COPY_MAP_DATA	40534000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1002537
+SHUFFLE	COMPRESS_BYTE_COUNT	346774
+SHUFFLE	COPY_MAP_DATA	43953000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	845395
+SHUFFLE	COMPRESS_BYTE_COUNT	291881
+SHUFFLE	COPY_MAP_DATA	42788000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	779756
+SHUFFLE	COMPRESS_BYTE_COUNT	284053
+SHUFFLE	COPY_MAP_DATA	47421000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	743885
+SHUFFLE	COMPRESS_BYTE_COUNT	269349
+SHUFFLE	COPY_MAP_DATA	18941000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	844245
+SHUFFLE	COMPRESS_BYTE_COUNT	297968
+SHUFFLE	COPY_MAP_DATA	17069000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1032958
+SHUFFLE	COMPRESS_BYTE_COUNT	354768
+SHUFFLE	COPY_MAP_DATA	206374000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	771285
+SHUFFLE	COMPRESS_BYTE_COUNT	283192
+SHUFFLE	COPY_MAP_DATA	37067000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	708903
+SHUFFLE	COMPRESS_BYTE_COUNT	257932
+SHUFFLE	COPY_MAP_DATA	16155000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	744187
+SHUFFLE	COMPRESS_BYTE_COUNT	271495
+SHUFFLE	COPY_MAP_DATA	13990000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	738307
+SHUFFLE	COMPRESS_BYTE_COUNT	269686
+SHUFFLE	COPY_MAP_DATA	15796000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	742199
+SHUFFLE	COMPRESS_BYTE_COUNT	271311
+SHUFFLE	COPY_MAP_DATA	85637000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	770157
+SHUFFLE	COMPRESS_BYTE_COUNT	277798
+SHUFFLE	COPY_MAP_DATA	81502000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	768972
+SHUFFLE	COMPRESS_BYTE_COUNT	279289
+SHUFFLE	COPY_MAP_DATA	41160000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	968280
+SHUFFLE	COMPRESS_BYTE_COUNT	336312
+SHUFFLE	COPY_MAP_DATA	18863000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	739093
+SHUFFLE	COMPRESS_BYTE_COUNT	269618
+SHUFFLE	COPY_MAP_DATA	4268605000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1104424
+SHUFFLE	COMPRESS_BYTE_COUNT	374520
+SHUFFLE	COPY_MAP_DATA	19645000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1110464
+SHUFFLE	COMPRESS_BYTE_COUNT	377136
+SHUFFLE	COPY_MAP_DATA	80422000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1101355
+SHUFFLE	COMPRESS_BYTE_COUNT	374267
+SHUFFLE	COPY_MAP_DATA	28057000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	752674
+SHUFFLE	COMPRESS_BYTE_COUNT	270064
+SHUFFLE	COPY_MAP_DATA	24830000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	958301
+SHUFFLE	COMPRESS_BYTE_COUNT	333098
+SHUFFLE	COPY_MAP_DATA	2290268000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1146146
+SHUFFLE	COMPRESS_BYTE_COUNT	392577
+SHUFFLE	COPY_MAP_DATA	50601000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	217743
+SHUFFLE	COMPRESS_BYTE_COUNT	95688
+SHUFFLE	COPY_MAP_DATA	633250000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1109372
+SHUFFLE	COMPRESS_BYTE_COUNT	376403
+SHUFFLE	COPY_MAP_DATA	40337000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	715113
+SHUFFLE	COMPRESS_BYTE_COUNT	261565
+SHUFFLE	COPY_MAP_DATA	227025000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	756211
+SHUFFLE	COMPRESS_BYTE_COUNT	276285
+SHUFFLE	COPY_MAP_DATA	15825000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	311797
+SHUFFLE	COMPRESS_BYTE_COUNT	128155
+SHUFFLE	COPY_MAP_DATA	18190000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	237473
+SHUFFLE	COMPRESS_BYTE_COUNT	102770
+SHUFFLE	COPY_MAP_DATA	1946101000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	349983
+SHUFFLE	COMPRESS_BYTE_COUNT	139889
+SHUFFLE	COPY_MAP_DATA	9904000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	205737
+SHUFFLE	COMPRESS_BYTE_COUNT	89900
+SHUFFLE	COPY_MAP_DATA	7665000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	406164
+SHUFFLE	COMPRESS_BYTE_COUNT	160489
+SHUFFLE	COPY_MAP_DATA	52254000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	746370
+SHUFFLE	COMPRESS_BYTE_COUNT	272737
+SHUFFLE	COPY_MAP_DATA	23786000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	183572
+SHUFFLE	COMPRESS_BYTE_COUNT	80069
+SHUFFLE	COPY_MAP_DATA	131062000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	460416
+SHUFFLE	COMPRESS_BYTE_COUNT	178850
+SHUFFLE	COPY_MAP_DATA	1127257000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	734661
+SHUFFLE	COMPRESS_BYTE_COUNT	269733
+SHUFFLE	COPY_MAP_DATA	15000000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	169257
+SHUFFLE	COMPRESS_BYTE_COUNT	74218
+SHUFFLE	COPY_MAP_DATA	6448000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	215207
+SHUFFLE	COMPRESS_BYTE_COUNT	92056
+SHUFFLE	COPY_MAP_DATA	28424000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	642816
+SHUFFLE	COMPRESS_BYTE_COUNT	237456
+SHUFFLE	COPY_MAP_DATA	61532000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	137847
+SHUFFLE	COMPRESS_BYTE_COUNT	60776
+SHUFFLE	COPY_MAP_DATA	2310885000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	736721
+SHUFFLE	COMPRESS_BYTE_COUNT	268931
+SHUFFLE	COPY_MAP_DATA	14563000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	713702
+SHUFFLE	COMPRESS_BYTE_COUNT	260011
+SHUFFLE	COPY_MAP_DATA	36845000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	713779
+SHUFFLE	COMPRESS_BYTE_COUNT	260408
+SHUFFLE	COPY_MAP_DATA	13311000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	652901
+SHUFFLE	COMPRESS_BYTE_COUNT	238827
+SHUFFLE	COPY_MAP_DATA	23924000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	512161
+SHUFFLE	COMPRESS_BYTE_COUNT	197931
+SHUFFLE	COPY_MAP_DATA	11810000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	662521
+SHUFFLE	COMPRESS_BYTE_COUNT	243242
+SHUFFLE	COPY_MAP_DATA	23382000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	440194
+SHUFFLE	COMPRESS_BYTE_COUNT	170110
+SHUFFLE	COPY_MAP_DATA	11596000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	634623
+SHUFFLE	COMPRESS_BYTE_COUNT	238371
+SHUFFLE	COPY_MAP_DATA	13064000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	649433
+SHUFFLE	COMPRESS_BYTE_COUNT	240769
+SHUFFLE	COPY_MAP_DATA	22496000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	707454
+SHUFFLE	COMPRESS_BYTE_COUNT	259218
+SHUFFLE	COPY_MAP_DATA	14375000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	484330
+SHUFFLE	COMPRESS_BYTE_COUNT	187982
+SHUFFLE	COPY_MAP_DATA	11296000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	404726
+SHUFFLE	COMPRESS_BYTE_COUNT	158438
+SHUFFLE	COPY_MAP_DATA	10310000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	696813
+SHUFFLE	COMPRESS_BYTE_COUNT	255738
+SHUFFLE	COPY_MAP_DATA	44711000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	727434
+SHUFFLE	COMPRESS_BYTE_COUNT	265687
+SHUFFLE	COPY_MAP_DATA	15257000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	573487
+SHUFFLE	COMPRESS_BYTE_COUNT	221514
+SHUFFLE	COPY_MAP_DATA	22867000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	496173
+SHUFFLE	COMPRESS_BYTE_COUNT	192365
+SHUFFLE	COPY_MAP_DATA	11556000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	691143
+SHUFFLE	COMPRESS_BYTE_COUNT	253686
+SHUFFLE	COPY_MAP_DATA	28962000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	659168
+SHUFFLE	COMPRESS_BYTE_COUNT	242899
+SHUFFLE	COPY_MAP_DATA	12268000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	317949
+SHUFFLE	COMPRESS_BYTE_COUNT	112699
+SHUFFLE	COPY_MAP_DATA	8284000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	522290
+SHUFFLE	COMPRESS_BYTE_COUNT	202634
+SHUFFLE	COPY_MAP_DATA	11433000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	742834
+SHUFFLE	COMPRESS_BYTE_COUNT	268707
+SHUFFLE	COPY_MAP_DATA	15532000
+SHUFFLE	UNCOMPRESS	0
+SORT	MERGE_MAP_DATA	35914852000
+SORT	READ_WRITE	35831574000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	103161352
+REDUCE	SETUP	287000
+REDUCE	SETUP_MEM	103161352
+REDUCE	CLEANUP	25000
+REDUCE	CLEANUP_MEM	97765608
+REDUCE	TOTAL_RUN	15497504000
+REDUCE	READ	820235000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	9170238000
+REDUCE	WRITE	2402365000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	11648103
+REDUCE	VALUE_BYTE_COUNT	1193991
+REDUCE	REDUCE_MEM	97765608
+REDUCE	WRITE	69399000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	542339666000
@@ -0,0 +1,410 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1105347
+SHUFFLE	COMPRESS_BYTE_COUNT	372787
+SHUFFLE	COPY_MAP_DATA	341217000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1123063
+SHUFFLE	COMPRESS_BYTE_COUNT	382047
+SHUFFLE	COPY_MAP_DATA	32059000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1012681
+SHUFFLE	COMPRESS_BYTE_COUNT	347734
+SHUFFLE	COPY_MAP_DATA	27904000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1112500
+SHUFFLE	COMPRESS_BYTE_COUNT	376251
+SHUFFLE	COPY_MAP_DATA	37829000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1067114
+SHUFFLE	COMPRESS_BYTE_COUNT	365326
+SHUFFLE	COPY_MAP_DATA	19967000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	794185
+SHUFFLE	COMPRESS_BYTE_COUNT	288288
+SHUFFLE	COPY_MAP_DATA	17088000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1123390
+SHUFFLE	COMPRESS_BYTE_COUNT	381599
+SHUFFLE	COPY_MAP_DATA	29912000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	987553
+SHUFFLE	COMPRESS_BYTE_COUNT	329556
+SHUFFLE	COPY_MAP_DATA	20309000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1080206
+SHUFFLE	COMPRESS_BYTE_COUNT	365933
+SHUFFLE	COPY_MAP_DATA	299649000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1134808
+SHUFFLE	COMPRESS_BYTE_COUNT	383939
+SHUFFLE	COPY_MAP_DATA	37079000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1114523
+SHUFFLE	COMPRESS_BYTE_COUNT	376598
+SHUFFLE	COPY_MAP_DATA	6327483000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	792790
+SHUFFLE	COMPRESS_BYTE_COUNT	288487
+SHUFFLE	COPY_MAP_DATA	17799000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1144082
+SHUFFLE	COMPRESS_BYTE_COUNT	387121
+SHUFFLE	COPY_MAP_DATA	33733000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1093395
+SHUFFLE	COMPRESS_BYTE_COUNT	369843
+SHUFFLE	COPY_MAP_DATA	81347000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1085671
+SHUFFLE	COMPRESS_BYTE_COUNT	367095
+SHUFFLE	COPY_MAP_DATA	84132000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1164679
+SHUFFLE	COMPRESS_BYTE_COUNT	385368
+SHUFFLE	COPY_MAP_DATA	189725000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1116197
+SHUFFLE	COMPRESS_BYTE_COUNT	377463
+SHUFFLE	COPY_MAP_DATA	105595000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	935291
+SHUFFLE	COMPRESS_BYTE_COUNT	312632
+SHUFFLE	COPY_MAP_DATA	28057000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1123502
+SHUFFLE	COMPRESS_BYTE_COUNT	380631
+SHUFFLE	COPY_MAP_DATA	26222000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1235500
+SHUFFLE	COMPRESS_BYTE_COUNT	411846
+SHUFFLE	COPY_MAP_DATA	499042000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1095675
+SHUFFLE	COMPRESS_BYTE_COUNT	372113
+SHUFFLE	COPY_MAP_DATA	152015000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1071898
+SHUFFLE	COMPRESS_BYTE_COUNT	361479
+SHUFFLE	COPY_MAP_DATA	26754000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1010163
+SHUFFLE	COMPRESS_BYTE_COUNT	340189
+SHUFFLE	COPY_MAP_DATA	425238000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1107012
+SHUFFLE	COMPRESS_BYTE_COUNT	376165
+SHUFFLE	COPY_MAP_DATA	103806000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1058214
+SHUFFLE	COMPRESS_BYTE_COUNT	356736
+SHUFFLE	COPY_MAP_DATA	114816000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1108623
+SHUFFLE	COMPRESS_BYTE_COUNT	373972
+SHUFFLE	COPY_MAP_DATA	110436000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1078778
+SHUFFLE	COMPRESS_BYTE_COUNT	363420
+SHUFFLE	COPY_MAP_DATA	19615000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1004648
+SHUFFLE	COMPRESS_BYTE_COUNT	338473
+SHUFFLE	COPY_MAP_DATA	18930000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1082300
+SHUFFLE	COMPRESS_BYTE_COUNT	366060
+SHUFFLE	COPY_MAP_DATA	120171000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1106509
+SHUFFLE	COMPRESS_BYTE_COUNT	375899
+SHUFFLE	COPY_MAP_DATA	19046000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	746413
+SHUFFLE	COMPRESS_BYTE_COUNT	268823
+SHUFFLE	COPY_MAP_DATA	119175000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	753566
+SHUFFLE	COMPRESS_BYTE_COUNT	273621
+SHUFFLE	COPY_MAP_DATA	418317000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	753751
+SHUFFLE	COMPRESS_BYTE_COUNT	274134
+SHUFFLE	COPY_MAP_DATA	16071000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	770032
+SHUFFLE	COMPRESS_BYTE_COUNT	280712
+SHUFFLE	COPY_MAP_DATA	65396000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	835845
+SHUFFLE	COMPRESS_BYTE_COUNT	290476
+SHUFFLE	COPY_MAP_DATA	309854000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	792595
+SHUFFLE	COMPRESS_BYTE_COUNT	286716
+SHUFFLE	COPY_MAP_DATA	94618000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	787738
+SHUFFLE	COMPRESS_BYTE_COUNT	285653
+SHUFFLE	COPY_MAP_DATA	108389000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	755918
+SHUFFLE	COMPRESS_BYTE_COUNT	270581
+SHUFFLE	COPY_MAP_DATA	16737000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	842573
+SHUFFLE	COMPRESS_BYTE_COUNT	290932
+SHUFFLE	COPY_MAP_DATA	448932000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1020448
+SHUFFLE	COMPRESS_BYTE_COUNT	352046
+SHUFFLE	COPY_MAP_DATA	29585000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	782150
+SHUFFLE	COMPRESS_BYTE_COUNT	284100
+SHUFFLE	COPY_MAP_DATA	64325000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	744754
+SHUFFLE	COMPRESS_BYTE_COUNT	270315
+SHUFFLE	COPY_MAP_DATA	14743000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	768931
+SHUFFLE	COMPRESS_BYTE_COUNT	281613
+SHUFFLE	COPY_MAP_DATA	658638000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	713537
+SHUFFLE	COMPRESS_BYTE_COUNT	259079
+SHUFFLE	COPY_MAP_DATA	14632000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	742899
+SHUFFLE	COMPRESS_BYTE_COUNT	270158
+SHUFFLE	COPY_MAP_DATA	14101000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	847035
+SHUFFLE	COMPRESS_BYTE_COUNT	299474
+SHUFFLE	COPY_MAP_DATA	12633041000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1031815
+SHUFFLE	COMPRESS_BYTE_COUNT	353596
+SHUFFLE	COPY_MAP_DATA	146720000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	744341
+SHUFFLE	COMPRESS_BYTE_COUNT	271631
+SHUFFLE	COPY_MAP_DATA	172598000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	738323
+SHUFFLE	COMPRESS_BYTE_COUNT	269337
+SHUFFLE	COPY_MAP_DATA	26243000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	773212
+SHUFFLE	COMPRESS_BYTE_COUNT	281092
+SHUFFLE	COPY_MAP_DATA	222229000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	771605
+SHUFFLE	COMPRESS_BYTE_COUNT	277946
+SHUFFLE	COPY_MAP_DATA	15068000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	962392
+SHUFFLE	COMPRESS_BYTE_COUNT	332850
+SHUFFLE	COPY_MAP_DATA	74717000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1113134
+SHUFFLE	COMPRESS_BYTE_COUNT	376613
+SHUFFLE	COPY_MAP_DATA	380481000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1105895
+SHUFFLE	COMPRESS_BYTE_COUNT	374062
+SHUFFLE	COPY_MAP_DATA	20276000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	738113
+SHUFFLE	COMPRESS_BYTE_COUNT	268266
+SHUFFLE	COPY_MAP_DATA	140217000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1102784
+SHUFFLE	COMPRESS_BYTE_COUNT	375213
+SHUFFLE	COPY_MAP_DATA	4749916000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	755324
+SHUFFLE	COMPRESS_BYTE_COUNT	270689
+SHUFFLE	COPY_MAP_DATA	44254000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	958043
+SHUFFLE	COMPRESS_BYTE_COUNT	332789
+SHUFFLE	COPY_MAP_DATA	20186000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1138023
+SHUFFLE	COMPRESS_BYTE_COUNT	389881
+SHUFFLE	COPY_MAP_DATA	154972000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	220495
+SHUFFLE	COMPRESS_BYTE_COUNT	96648
+SHUFFLE	COPY_MAP_DATA	44198000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	720098
+SHUFFLE	COMPRESS_BYTE_COUNT	262272
+SHUFFLE	COPY_MAP_DATA	1009111000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1113001
+SHUFFLE	COMPRESS_BYTE_COUNT	375911
+SHUFFLE	COPY_MAP_DATA	1349139000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	749629
+SHUFFLE	COMPRESS_BYTE_COUNT	273458
+SHUFFLE	COPY_MAP_DATA	200774000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	309658
+SHUFFLE	COMPRESS_BYTE_COUNT	127017
+SHUFFLE	COPY_MAP_DATA	1192189000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	238942
+SHUFFLE	COMPRESS_BYTE_COUNT	103229
+SHUFFLE	COPY_MAP_DATA	428720000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	352144
+SHUFFLE	COMPRESS_BYTE_COUNT	140761
+SHUFFLE	COPY_MAP_DATA	85247000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	407562
+SHUFFLE	COMPRESS_BYTE_COUNT	160446
+SHUFFLE	COPY_MAP_DATA	100291000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	206960
+SHUFFLE	COMPRESS_BYTE_COUNT	90199
+SHUFFLE	COPY_MAP_DATA	7590000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	746726
+SHUFFLE	COMPRESS_BYTE_COUNT	272229
+SHUFFLE	COPY_MAP_DATA	41189000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	185075
+SHUFFLE	COMPRESS_BYTE_COUNT	80553
+SHUFFLE	COPY_MAP_DATA	7612000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	169045
+SHUFFLE	COMPRESS_BYTE_COUNT	73902
+SHUFFLE	COPY_MAP_DATA	66152000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	217015
+SHUFFLE	COMPRESS_BYTE_COUNT	92802
+SHUFFLE	COPY_MAP_DATA	9257000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	733066
+SHUFFLE	COMPRESS_BYTE_COUNT	266552
+SHUFFLE	COPY_MAP_DATA	15082000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	466858
+SHUFFLE	COMPRESS_BYTE_COUNT	180321
+SHUFFLE	COPY_MAP_DATA	12060000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	642762
+SHUFFLE	COMPRESS_BYTE_COUNT	237444
+SHUFFLE	COPY_MAP_DATA	13631000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	139622
+SHUFFLE	COMPRESS_BYTE_COUNT	61516
+SHUFFLE	COPY_MAP_DATA	5548000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	738809
+SHUFFLE	COMPRESS_BYTE_COUNT	269203
+SHUFFLE	COPY_MAP_DATA	15959000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	717357
+SHUFFLE	COMPRESS_BYTE_COUNT	261081
+SHUFFLE	COPY_MAP_DATA	31496000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	714381
+SHUFFLE	COMPRESS_BYTE_COUNT	260431
+SHUFFLE	COPY_MAP_DATA	14075000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	441781
+SHUFFLE	COMPRESS_BYTE_COUNT	170396
+SHUFFLE	COPY_MAP_DATA	11666000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	658815
+SHUFFLE	COMPRESS_BYTE_COUNT	241824
+SHUFFLE	COPY_MAP_DATA	33681000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	650251
+SHUFFLE	COMPRESS_BYTE_COUNT	237030
+SHUFFLE	COPY_MAP_DATA	13834000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	511656
+SHUFFLE	COMPRESS_BYTE_COUNT	197280
+SHUFFLE	COPY_MAP_DATA	11878000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	647331
+SHUFFLE	COMPRESS_BYTE_COUNT	238380
+SHUFFLE	COPY_MAP_DATA	13918000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	481671
+SHUFFLE	COMPRESS_BYTE_COUNT	186263
+SHUFFLE	COPY_MAP_DATA	32503000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	710040
+SHUFFLE	COMPRESS_BYTE_COUNT	259891
+SHUFFLE	COPY_MAP_DATA	15277000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	637501
+SHUFFLE	COMPRESS_BYTE_COUNT	238630
+SHUFFLE	COPY_MAP_DATA	13580000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	725402
+SHUFFLE	COMPRESS_BYTE_COUNT	263974
+SHUFFLE	COPY_MAP_DATA	37944000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	701053
+SHUFFLE	COMPRESS_BYTE_COUNT	255525
+SHUFFLE	COPY_MAP_DATA	32403000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	408605
+SHUFFLE	COMPRESS_BYTE_COUNT	159570
+SHUFFLE	COPY_MAP_DATA	11470000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	580384
+SHUFFLE	COMPRESS_BYTE_COUNT	223426
+SHUFFLE	COPY_MAP_DATA	14066000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	316122
+SHUFFLE	COMPRESS_BYTE_COUNT	112216
+SHUFFLE	COPY_MAP_DATA	8808000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	498181
+SHUFFLE	COMPRESS_BYTE_COUNT	192338
+SHUFFLE	COPY_MAP_DATA	11878000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	692506
+SHUFFLE	COMPRESS_BYTE_COUNT	253067
+SHUFFLE	COPY_MAP_DATA	33997000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	664333
+SHUFFLE	COMPRESS_BYTE_COUNT	244438
+SHUFFLE	COPY_MAP_DATA	12963000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	524583
+SHUFFLE	COMPRESS_BYTE_COUNT	203016
+SHUFFLE	COPY_MAP_DATA	11998000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	741696
+SHUFFLE	COMPRESS_BYTE_COUNT	266945
+SHUFFLE	COPY_MAP_DATA	15287000
+SHUFFLE	UNCOMPRESS	0
+SORT	MERGE_MAP_DATA	33765777000
+SORT	READ_WRITE	33689989000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	101368736
+REDUCE	SETUP	264000
+REDUCE	SETUP_MEM	101368736
+REDUCE	CLEANUP	26000
+REDUCE	CLEANUP_MEM	98632192
+REDUCE	TOTAL_RUN	15353666000
+REDUCE	READ	955970000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	9096834000
+REDUCE	WRITE	2617005000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	11642453
+REDUCE	VALUE_BYTE_COUNT	1193433
+REDUCE	REDUCE_MEM	98634240
+REDUCE	WRITE	13796000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	555772945000
@@ -0,0 +1,410 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1060737
+SHUFFLE	COMPRESS_BYTE_COUNT	362895
+SHUFFLE	COPY_MAP_DATA	8634746000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	993606
+SHUFFLE	COMPRESS_BYTE_COUNT	333239
+SHUFFLE	COPY_MAP_DATA	21827000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1118378
+SHUFFLE	COMPRESS_BYTE_COUNT	377629
+SHUFFLE	COPY_MAP_DATA	82809000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1013974
+SHUFFLE	COMPRESS_BYTE_COUNT	349115
+SHUFFLE	COPY_MAP_DATA	22154000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1083961
+SHUFFLE	COMPRESS_BYTE_COUNT	367241
+SHUFFLE	COPY_MAP_DATA	38543000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1119097
+SHUFFLE	COMPRESS_BYTE_COUNT	380447
+SHUFFLE	COPY_MAP_DATA	149423000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1112535
+SHUFFLE	COMPRESS_BYTE_COUNT	375239
+SHUFFLE	COPY_MAP_DATA	48225000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1120514
+SHUFFLE	COMPRESS_BYTE_COUNT	380500
+SHUFFLE	COPY_MAP_DATA	31323000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	793261
+SHUFFLE	COMPRESS_BYTE_COUNT	287256
+SHUFFLE	COPY_MAP_DATA	154182000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1087816
+SHUFFLE	COMPRESS_BYTE_COUNT	367545
+SHUFFLE	COPY_MAP_DATA	28639000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1113141
+SHUFFLE	COMPRESS_BYTE_COUNT	377985
+SHUFFLE	COPY_MAP_DATA	21017000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1171638
+SHUFFLE	COMPRESS_BYTE_COUNT	389465
+SHUFFLE	COPY_MAP_DATA	31674000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1088944
+SHUFFLE	COMPRESS_BYTE_COUNT	369173
+SHUFFLE	COPY_MAP_DATA	123281000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1134402
+SHUFFLE	COMPRESS_BYTE_COUNT	384018
+SHUFFLE	COPY_MAP_DATA	117807000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	790564
+SHUFFLE	COMPRESS_BYTE_COUNT	288834
+SHUFFLE	COPY_MAP_DATA	43711000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1115820
+SHUFFLE	COMPRESS_BYTE_COUNT	377296
+SHUFFLE	COPY_MAP_DATA	21761000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1142706
+SHUFFLE	COMPRESS_BYTE_COUNT	386597
+SHUFFLE	COPY_MAP_DATA	1028169000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	941615
+SHUFFLE	COMPRESS_BYTE_COUNT	315102
+SHUFFLE	COPY_MAP_DATA	110820000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1128844
+SHUFFLE	COMPRESS_BYTE_COUNT	382031
+SHUFFLE	COPY_MAP_DATA	24124000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1095128
+SHUFFLE	COMPRESS_BYTE_COUNT	370852
+SHUFFLE	COPY_MAP_DATA	83804000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1234030
+SHUFFLE	COMPRESS_BYTE_COUNT	412165
+SHUFFLE	COPY_MAP_DATA	154060000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1078187
+SHUFFLE	COMPRESS_BYTE_COUNT	363578
+SHUFFLE	COPY_MAP_DATA	478296000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1110245
+SHUFFLE	COMPRESS_BYTE_COUNT	377387
+SHUFFLE	COPY_MAP_DATA	130246000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1061206
+SHUFFLE	COMPRESS_BYTE_COUNT	358094
+SHUFFLE	COPY_MAP_DATA	153772000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1104444
+SHUFFLE	COMPRESS_BYTE_COUNT	371860
+SHUFFLE	COPY_MAP_DATA	1223478000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1081966
+SHUFFLE	COMPRESS_BYTE_COUNT	365385
+SHUFFLE	COPY_MAP_DATA	212973000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1011671
+SHUFFLE	COMPRESS_BYTE_COUNT	340869
+SHUFFLE	COPY_MAP_DATA	19749000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	996633
+SHUFFLE	COMPRESS_BYTE_COUNT	336031
+SHUFFLE	COPY_MAP_DATA	25486000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1084294
+SHUFFLE	COMPRESS_BYTE_COUNT	366842
+SHUFFLE	COPY_MAP_DATA	119147000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1111540
+SHUFFLE	COMPRESS_BYTE_COUNT	378045
+SHUFFLE	COPY_MAP_DATA	19246000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	749750
+SHUFFLE	COMPRESS_BYTE_COUNT	270183
+SHUFFLE	COPY_MAP_DATA	18387000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	755331
+SHUFFLE	COMPRESS_BYTE_COUNT	273829
+SHUFFLE	COPY_MAP_DATA	17299000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	751949
+SHUFFLE	COMPRESS_BYTE_COUNT	273440
+SHUFFLE	COPY_MAP_DATA	1615292000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	772760
+SHUFFLE	COMPRESS_BYTE_COUNT	282536
+SHUFFLE	COPY_MAP_DATA	869134000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	840249
+SHUFFLE	COMPRESS_BYTE_COUNT	292920
+SHUFFLE	COPY_MAP_DATA	19997000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	789930
+SHUFFLE	COMPRESS_BYTE_COUNT	286296
+SHUFFLE	COPY_MAP_DATA	36281000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	790461
+SHUFFLE	COMPRESS_BYTE_COUNT	287584
+SHUFFLE	COPY_MAP_DATA	16565000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	755788
+SHUFFLE	COMPRESS_BYTE_COUNT	270971
+SHUFFLE	COPY_MAP_DATA	1869740000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	842825
+SHUFFLE	COMPRESS_BYTE_COUNT	292021
+SHUFFLE	COPY_MAP_DATA	155506000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1019549
+SHUFFLE	COMPRESS_BYTE_COUNT	352533
+SHUFFLE	COPY_MAP_DATA	44479000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	782212
+SHUFFLE	COMPRESS_BYTE_COUNT	284031
+SHUFFLE	COPY_MAP_DATA	1706988000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	740297
+SHUFFLE	COMPRESS_BYTE_COUNT	268774
+SHUFFLE	COPY_MAP_DATA	15323000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	708349
+SHUFFLE	COMPRESS_BYTE_COUNT	258164
+SHUFFLE	COPY_MAP_DATA	14697000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	773389
+SHUFFLE	COMPRESS_BYTE_COUNT	282923
+SHUFFLE	COPY_MAP_DATA	66703000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	745640
+SHUFFLE	COMPRESS_BYTE_COUNT	272756
+SHUFFLE	COPY_MAP_DATA	40811000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	737149
+SHUFFLE	COMPRESS_BYTE_COUNT	269250
+SHUFFLE	COPY_MAP_DATA	1424761000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	840260
+SHUFFLE	COMPRESS_BYTE_COUNT	296954
+SHUFFLE	COPY_MAP_DATA	9676789000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1028590
+SHUFFLE	COMPRESS_BYTE_COUNT	353473
+SHUFFLE	COPY_MAP_DATA	59416000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	743662
+SHUFFLE	COMPRESS_BYTE_COUNT	272357
+SHUFFLE	COPY_MAP_DATA	31439000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	774149
+SHUFFLE	COMPRESS_BYTE_COUNT	279577
+SHUFFLE	COPY_MAP_DATA	36039000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	777835
+SHUFFLE	COMPRESS_BYTE_COUNT	282118
+SHUFFLE	COPY_MAP_DATA	20268000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	970734
+SHUFFLE	COMPRESS_BYTE_COUNT	336150
+SHUFFLE	COPY_MAP_DATA	24949000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1110733
+SHUFFLE	COMPRESS_BYTE_COUNT	375553
+SHUFFLE	COPY_MAP_DATA	366173000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	736702
+SHUFFLE	COMPRESS_BYTE_COUNT	268296
+SHUFFLE	COPY_MAP_DATA	805008000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1104181
+SHUFFLE	COMPRESS_BYTE_COUNT	375552
+SHUFFLE	COPY_MAP_DATA	29124000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	752205
+SHUFFLE	COMPRESS_BYTE_COUNT	270148
+SHUFFLE	COPY_MAP_DATA	14848000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1104445
+SHUFFLE	COMPRESS_BYTE_COUNT	375265
+SHUFFLE	COPY_MAP_DATA	19090000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	961019
+SHUFFLE	COMPRESS_BYTE_COUNT	333673
+SHUFFLE	COPY_MAP_DATA	17717000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1149034
+SHUFFLE	COMPRESS_BYTE_COUNT	392075
+SHUFFLE	COPY_MAP_DATA	1123379000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	219723
+SHUFFLE	COMPRESS_BYTE_COUNT	96238
+SHUFFLE	COPY_MAP_DATA	3089399000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1109581
+SHUFFLE	COMPRESS_BYTE_COUNT	374879
+SHUFFLE	COPY_MAP_DATA	89838000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	713971
+SHUFFLE	COMPRESS_BYTE_COUNT	259655
+SHUFFLE	COPY_MAP_DATA	54378000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	749344
+SHUFFLE	COMPRESS_BYTE_COUNT	272861
+SHUFFLE	COPY_MAP_DATA	45688000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	312296
+SHUFFLE	COMPRESS_BYTE_COUNT	128770
+SHUFFLE	COPY_MAP_DATA	57291000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	240731
+SHUFFLE	COMPRESS_BYTE_COUNT	104471
+SHUFFLE	COPY_MAP_DATA	367034000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	351865
+SHUFFLE	COMPRESS_BYTE_COUNT	140817
+SHUFFLE	COPY_MAP_DATA	424530000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	205402
+SHUFFLE	COMPRESS_BYTE_COUNT	89368
+SHUFFLE	COPY_MAP_DATA	7833000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	405152
+SHUFFLE	COMPRESS_BYTE_COUNT	159717
+SHUFFLE	COPY_MAP_DATA	9602000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	747058
+SHUFFLE	COMPRESS_BYTE_COUNT	271598
+SHUFFLE	COPY_MAP_DATA	123820000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	182747
+SHUFFLE	COMPRESS_BYTE_COUNT	79897
+SHUFFLE	COPY_MAP_DATA	687876000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	732171
+SHUFFLE	COMPRESS_BYTE_COUNT	268419
+SHUFFLE	COPY_MAP_DATA	39911000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	170387
+SHUFFLE	COMPRESS_BYTE_COUNT	74677
+SHUFFLE	COPY_MAP_DATA	9822000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	466454
+SHUFFLE	COMPRESS_BYTE_COUNT	180778
+SHUFFLE	COPY_MAP_DATA	3527979000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	215332
+SHUFFLE	COMPRESS_BYTE_COUNT	92294
+SHUFFLE	COPY_MAP_DATA	1005215000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	639162
+SHUFFLE	COMPRESS_BYTE_COUNT	236479
+SHUFFLE	COPY_MAP_DATA	1964752000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	136705
+SHUFFLE	COMPRESS_BYTE_COUNT	60427
+SHUFFLE	COPY_MAP_DATA	39517000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	740913
+SHUFFLE	COMPRESS_BYTE_COUNT	269987
+SHUFFLE	COPY_MAP_DATA	41892000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	714644
+SHUFFLE	COMPRESS_BYTE_COUNT	260725
+SHUFFLE	COPY_MAP_DATA	14054000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	711920
+SHUFFLE	COMPRESS_BYTE_COUNT	260170
+SHUFFLE	COPY_MAP_DATA	15871000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	655499
+SHUFFLE	COMPRESS_BYTE_COUNT	239119
+SHUFFLE	COPY_MAP_DATA	14308000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	654036
+SHUFFLE	COMPRESS_BYTE_COUNT	240475
+SHUFFLE	COPY_MAP_DATA	13304000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	513771
+SHUFFLE	COMPRESS_BYTE_COUNT	197857
+SHUFFLE	COPY_MAP_DATA	11355000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	710050
+SHUFFLE	COMPRESS_BYTE_COUNT	259277
+SHUFFLE	COPY_MAP_DATA	22483000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	647945
+SHUFFLE	COMPRESS_BYTE_COUNT	239777
+SHUFFLE	COPY_MAP_DATA	116837000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	439888
+SHUFFLE	COMPRESS_BYTE_COUNT	170342
+SHUFFLE	COPY_MAP_DATA	10687000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	636483
+SHUFFLE	COMPRESS_BYTE_COUNT	238519
+SHUFFLE	COPY_MAP_DATA	12598000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	481374
+SHUFFLE	COMPRESS_BYTE_COUNT	186503
+SHUFFLE	COPY_MAP_DATA	10124000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	732033
+SHUFFLE	COMPRESS_BYTE_COUNT	266601
+SHUFFLE	COPY_MAP_DATA	40297000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	696672
+SHUFFLE	COMPRESS_BYTE_COUNT	253720
+SHUFFLE	COPY_MAP_DATA	33558000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	407124
+SHUFFLE	COMPRESS_BYTE_COUNT	159222
+SHUFFLE	COPY_MAP_DATA	10767000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	578812
+SHUFFLE	COMPRESS_BYTE_COUNT	223018
+SHUFFLE	COPY_MAP_DATA	12564000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	692238
+SHUFFLE	COMPRESS_BYTE_COUNT	254260
+SHUFFLE	COPY_MAP_DATA	28894000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	503132
+SHUFFLE	COMPRESS_BYTE_COUNT	194527
+SHUFFLE	COPY_MAP_DATA	11304000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	664220
+SHUFFLE	COMPRESS_BYTE_COUNT	245415
+SHUFFLE	COPY_MAP_DATA	13065000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	526014
+SHUFFLE	COMPRESS_BYTE_COUNT	203397
+SHUFFLE	COPY_MAP_DATA	11201000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	314085
+SHUFFLE	COMPRESS_BYTE_COUNT	111496
+SHUFFLE	COPY_MAP_DATA	24027000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	740610
+SHUFFLE	COMPRESS_BYTE_COUNT	266766
+SHUFFLE	COPY_MAP_DATA	27220000
+SHUFFLE	UNCOMPRESS	0
+SORT	MERGE_MAP_DATA	34053860000
+SORT	READ_WRITE	33963119000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	70292448
+REDUCE	SETUP	298000
+REDUCE	SETUP_MEM	70292448
+REDUCE	CLEANUP	27000
+REDUCE	CLEANUP_MEM	85628688
+REDUCE	TOTAL_RUN	16292978000
+REDUCE	READ	855735000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	9782352000
+REDUCE	WRITE	2571340000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	11637983
+REDUCE	VALUE_BYTE_COUNT	1192997
+REDUCE	REDUCE_MEM	85630736
+REDUCE	WRITE	9225000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	554284986000
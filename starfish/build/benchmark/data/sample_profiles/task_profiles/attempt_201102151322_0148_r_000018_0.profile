@@ -0,0 +1,410 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1072605
+SHUFFLE	COMPRESS_BYTE_COUNT	367995
+SHUFFLE	COPY_MAP_DATA	122943000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	997432
+SHUFFLE	COMPRESS_BYTE_COUNT	333150
+SHUFFLE	COPY_MAP_DATA	20128000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	792741
+SHUFFLE	COMPRESS_BYTE_COUNT	286959
+SHUFFLE	COPY_MAP_DATA	20266000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1115030
+SHUFFLE	COMPRESS_BYTE_COUNT	376754
+SHUFFLE	COPY_MAP_DATA	33505000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1126812
+SHUFFLE	COMPRESS_BYTE_COUNT	382961
+SHUFFLE	COPY_MAP_DATA	23189000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1119459
+SHUFFLE	COMPRESS_BYTE_COUNT	379946
+SHUFFLE	COPY_MAP_DATA	105446000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1094063
+SHUFFLE	COMPRESS_BYTE_COUNT	370104
+SHUFFLE	COPY_MAP_DATA	446484000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1109350
+SHUFFLE	COMPRESS_BYTE_COUNT	375155
+SHUFFLE	COPY_MAP_DATA	1963693000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	798158
+SHUFFLE	COMPRESS_BYTE_COUNT	290132
+SHUFFLE	COPY_MAP_DATA	16563000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1144999
+SHUFFLE	COMPRESS_BYTE_COUNT	386537
+SHUFFLE	COPY_MAP_DATA	135397000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1012756
+SHUFFLE	COMPRESS_BYTE_COUNT	347689
+SHUFFLE	COPY_MAP_DATA	83176000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1139274
+SHUFFLE	COMPRESS_BYTE_COUNT	386310
+SHUFFLE	COPY_MAP_DATA	29601000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1113680
+SHUFFLE	COMPRESS_BYTE_COUNT	375941
+SHUFFLE	COPY_MAP_DATA	99377000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1086216
+SHUFFLE	COMPRESS_BYTE_COUNT	368000
+SHUFFLE	COPY_MAP_DATA	74069000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1087545
+SHUFFLE	COMPRESS_BYTE_COUNT	366577
+SHUFFLE	COPY_MAP_DATA	52025000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1173438
+SHUFFLE	COMPRESS_BYTE_COUNT	388852
+SHUFFLE	COPY_MAP_DATA	36475000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1117710
+SHUFFLE	COMPRESS_BYTE_COUNT	377962
+SHUFFLE	COPY_MAP_DATA	1048102000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1124359
+SHUFFLE	COMPRESS_BYTE_COUNT	380965
+SHUFFLE	COPY_MAP_DATA	250718000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	949982
+SHUFFLE	COMPRESS_BYTE_COUNT	318856
+SHUFFLE	COPY_MAP_DATA	17085000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1233069
+SHUFFLE	COMPRESS_BYTE_COUNT	411532
+SHUFFLE	COPY_MAP_DATA	285841000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1096153
+SHUFFLE	COMPRESS_BYTE_COUNT	371750
+SHUFFLE	COPY_MAP_DATA	19366000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1079561
+SHUFFLE	COMPRESS_BYTE_COUNT	364622
+SHUFFLE	COPY_MAP_DATA	72999000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1105276
+SHUFFLE	COMPRESS_BYTE_COUNT	374119
+SHUFFLE	COPY_MAP_DATA	20189000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1102034
+SHUFFLE	COMPRESS_BYTE_COUNT	371902
+SHUFFLE	COPY_MAP_DATA	23598000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1063748
+SHUFFLE	COMPRESS_BYTE_COUNT	360038
+SHUFFLE	COPY_MAP_DATA	33483000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1011788
+SHUFFLE	COMPRESS_BYTE_COUNT	340932
+SHUFFLE	COPY_MAP_DATA	31621000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1079121
+SHUFFLE	COMPRESS_BYTE_COUNT	363742
+SHUFFLE	COPY_MAP_DATA	18465000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1004218
+SHUFFLE	COMPRESS_BYTE_COUNT	338450
+SHUFFLE	COPY_MAP_DATA	26441000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1084334
+SHUFFLE	COMPRESS_BYTE_COUNT	367190
+SHUFFLE	COPY_MAP_DATA	63060000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1104921
+SHUFFLE	COMPRESS_BYTE_COUNT	374992
+SHUFFLE	COPY_MAP_DATA	51176000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	752644
+SHUFFLE	COMPRESS_BYTE_COUNT	270806
+SHUFFLE	COPY_MAP_DATA	1079463000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	752795
+SHUFFLE	COMPRESS_BYTE_COUNT	273619
+SHUFFLE	COPY_MAP_DATA	251839000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	754579
+SHUFFLE	COMPRESS_BYTE_COUNT	273862
+SHUFFLE	COPY_MAP_DATA	687936000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	783328
+SHUFFLE	COMPRESS_BYTE_COUNT	285020
+SHUFFLE	COPY_MAP_DATA	119152000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	789790
+SHUFFLE	COMPRESS_BYTE_COUNT	285754
+SHUFFLE	COPY_MAP_DATA	62444000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	841980
+SHUFFLE	COMPRESS_BYTE_COUNT	292517
+SHUFFLE	COPY_MAP_DATA	681313000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	796525
+SHUFFLE	COMPRESS_BYTE_COUNT	289103
+SHUFFLE	COPY_MAP_DATA	574177000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	758121
+SHUFFLE	COMPRESS_BYTE_COUNT	272411
+SHUFFLE	COPY_MAP_DATA	3204010000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	851381
+SHUFFLE	COMPRESS_BYTE_COUNT	293888
+SHUFFLE	COPY_MAP_DATA	113566000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1016586
+SHUFFLE	COMPRESS_BYTE_COUNT	350882
+SHUFFLE	COPY_MAP_DATA	1430699000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	782133
+SHUFFLE	COMPRESS_BYTE_COUNT	284267
+SHUFFLE	COPY_MAP_DATA	1787677000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	776469
+SHUFFLE	COMPRESS_BYTE_COUNT	285338
+SHUFFLE	COPY_MAP_DATA	1303636000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	749773
+SHUFFLE	COMPRESS_BYTE_COUNT	271713
+SHUFFLE	COPY_MAP_DATA	15257000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	744676
+SHUFFLE	COMPRESS_BYTE_COUNT	270853
+SHUFFLE	COPY_MAP_DATA	13692000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	852864
+SHUFFLE	COMPRESS_BYTE_COUNT	301851
+SHUFFLE	COPY_MAP_DATA	16799000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1041752
+SHUFFLE	COMPRESS_BYTE_COUNT	357372
+SHUFFLE	COPY_MAP_DATA	61477000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	713454
+SHUFFLE	COMPRESS_BYTE_COUNT	259589
+SHUFFLE	COPY_MAP_DATA	98664000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	738220
+SHUFFLE	COMPRESS_BYTE_COUNT	269586
+SHUFFLE	COPY_MAP_DATA	112167000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	746778
+SHUFFLE	COMPRESS_BYTE_COUNT	273372
+SHUFFLE	COPY_MAP_DATA	17568000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	777363
+SHUFFLE	COMPRESS_BYTE_COUNT	280996
+SHUFFLE	COPY_MAP_DATA	15288000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	778198
+SHUFFLE	COMPRESS_BYTE_COUNT	282280
+SHUFFLE	COPY_MAP_DATA	66175000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	966901
+SHUFFLE	COMPRESS_BYTE_COUNT	335395
+SHUFFLE	COPY_MAP_DATA	23548000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	735425
+SHUFFLE	COMPRESS_BYTE_COUNT	267727
+SHUFFLE	COPY_MAP_DATA	145665000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1118144
+SHUFFLE	COMPRESS_BYTE_COUNT	378994
+SHUFFLE	COPY_MAP_DATA	21006000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1121404
+SHUFFLE	COMPRESS_BYTE_COUNT	379617
+SHUFFLE	COPY_MAP_DATA	25058000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	748877
+SHUFFLE	COMPRESS_BYTE_COUNT	269011
+SHUFFLE	COPY_MAP_DATA	15661000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1112123
+SHUFFLE	COMPRESS_BYTE_COUNT	378533
+SHUFFLE	COPY_MAP_DATA	50997000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	960825
+SHUFFLE	COMPRESS_BYTE_COUNT	332873
+SHUFFLE	COPY_MAP_DATA	38740000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1151655
+SHUFFLE	COMPRESS_BYTE_COUNT	393324
+SHUFFLE	COPY_MAP_DATA	21229000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	221144
+SHUFFLE	COMPRESS_BYTE_COUNT	96891
+SHUFFLE	COPY_MAP_DATA	9371000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	715313
+SHUFFLE	COMPRESS_BYTE_COUNT	260111
+SHUFFLE	COPY_MAP_DATA	2382969000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1116945
+SHUFFLE	COMPRESS_BYTE_COUNT	378189
+SHUFFLE	COPY_MAP_DATA	261113000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	757182
+SHUFFLE	COMPRESS_BYTE_COUNT	277033
+SHUFFLE	COPY_MAP_DATA	46354000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	311221
+SHUFFLE	COMPRESS_BYTE_COUNT	127954
+SHUFFLE	COPY_MAP_DATA	656652000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	240860
+SHUFFLE	COMPRESS_BYTE_COUNT	104438
+SHUFFLE	COPY_MAP_DATA	95857000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	353095
+SHUFFLE	COMPRESS_BYTE_COUNT	140969
+SHUFFLE	COPY_MAP_DATA	11810000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	204236
+SHUFFLE	COMPRESS_BYTE_COUNT	88964
+SHUFFLE	COPY_MAP_DATA	223374000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	407877
+SHUFFLE	COMPRESS_BYTE_COUNT	160648
+SHUFFLE	COPY_MAP_DATA	9609000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	753676
+SHUFFLE	COMPRESS_BYTE_COUNT	274610
+SHUFFLE	COPY_MAP_DATA	15979000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	183198
+SHUFFLE	COMPRESS_BYTE_COUNT	80193
+SHUFFLE	COPY_MAP_DATA	7282000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	212566
+SHUFFLE	COMPRESS_BYTE_COUNT	90968
+SHUFFLE	COPY_MAP_DATA	18385000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	467735
+SHUFFLE	COMPRESS_BYTE_COUNT	181369
+SHUFFLE	COPY_MAP_DATA	26218000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	731658
+SHUFFLE	COMPRESS_BYTE_COUNT	267853
+SHUFFLE	COPY_MAP_DATA	14284000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	643383
+SHUFFLE	COMPRESS_BYTE_COUNT	237562
+SHUFFLE	COPY_MAP_DATA	22609000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	169019
+SHUFFLE	COMPRESS_BYTE_COUNT	74217
+SHUFFLE	COPY_MAP_DATA	6500000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	137994
+SHUFFLE	COMPRESS_BYTE_COUNT	60592
+SHUFFLE	COPY_MAP_DATA	4267000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	740026
+SHUFFLE	COMPRESS_BYTE_COUNT	270142
+SHUFFLE	COPY_MAP_DATA	39991000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	717378
+SHUFFLE	COMPRESS_BYTE_COUNT	262525
+SHUFFLE	COPY_MAP_DATA	13767000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	711219
+SHUFFLE	COMPRESS_BYTE_COUNT	259181
+SHUFFLE	COPY_MAP_DATA	15056000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	652356
+SHUFFLE	COMPRESS_BYTE_COUNT	237751
+SHUFFLE	COPY_MAP_DATA	13705000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	438006
+SHUFFLE	COMPRESS_BYTE_COUNT	169216
+SHUFFLE	COPY_MAP_DATA	184773000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	663096
+SHUFFLE	COMPRESS_BYTE_COUNT	243247
+SHUFFLE	COPY_MAP_DATA	43317000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	512805
+SHUFFLE	COMPRESS_BYTE_COUNT	197160
+SHUFFLE	COPY_MAP_DATA	24092000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	711358
+SHUFFLE	COMPRESS_BYTE_COUNT	259302
+SHUFFLE	COPY_MAP_DATA	33019000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	645523
+SHUFFLE	COMPRESS_BYTE_COUNT	238483
+SHUFFLE	COPY_MAP_DATA	12509000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	639171
+SHUFFLE	COMPRESS_BYTE_COUNT	238583
+SHUFFLE	COPY_MAP_DATA	12422000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	483025
+SHUFFLE	COMPRESS_BYTE_COUNT	186756
+SHUFFLE	COPY_MAP_DATA	10198000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	408041
+SHUFFLE	COMPRESS_BYTE_COUNT	159075
+SHUFFLE	COPY_MAP_DATA	10798000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	703657
+SHUFFLE	COMPRESS_BYTE_COUNT	256709
+SHUFFLE	COPY_MAP_DATA	39758000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	724625
+SHUFFLE	COMPRESS_BYTE_COUNT	263989
+SHUFFLE	COPY_MAP_DATA	45811000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	574461
+SHUFFLE	COMPRESS_BYTE_COUNT	220938
+SHUFFLE	COPY_MAP_DATA	29899000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	504142
+SHUFFLE	COMPRESS_BYTE_COUNT	195011
+SHUFFLE	COPY_MAP_DATA	11220000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	690561
+SHUFFLE	COMPRESS_BYTE_COUNT	252678
+SHUFFLE	COPY_MAP_DATA	13493000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	663019
+SHUFFLE	COMPRESS_BYTE_COUNT	243952
+SHUFFLE	COPY_MAP_DATA	12633000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	314741
+SHUFFLE	COMPRESS_BYTE_COUNT	111939
+SHUFFLE	COPY_MAP_DATA	7750000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	526171
+SHUFFLE	COMPRESS_BYTE_COUNT	203743
+SHUFFLE	COPY_MAP_DATA	11266000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	744474
+SHUFFLE	COMPRESS_BYTE_COUNT	268471
+SHUFFLE	COPY_MAP_DATA	35918000
+SHUFFLE	UNCOMPRESS	0
+SORT	MERGE_MAP_DATA	34029073000
+SORT	READ_WRITE	33938309000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	83498336
+REDUCE	SETUP	331000
+REDUCE	SETUP_MEM	83498336
+REDUCE	CLEANUP	26000
+REDUCE	CLEANUP_MEM	95827776
+REDUCE	TOTAL_RUN	15385931000
+REDUCE	READ	871353000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	9236951000
+REDUCE	WRITE	2554261000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	11671881
+REDUCE	VALUE_BYTE_COUNT	1195126
+REDUCE	REDUCE_MEM	95827776
+REDUCE	WRITE	13917000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	552756971000
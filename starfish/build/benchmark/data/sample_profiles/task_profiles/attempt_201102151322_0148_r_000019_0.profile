@@ -0,0 +1,410 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1122677
+SHUFFLE	COMPRESS_BYTE_COUNT	381189
+SHUFFLE	COPY_MAP_DATA	128213000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	983332
+SHUFFLE	COMPRESS_BYTE_COUNT	328353
+SHUFFLE	COPY_MAP_DATA	20481000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1068049
+SHUFFLE	COMPRESS_BYTE_COUNT	365923
+SHUFFLE	COPY_MAP_DATA	27034000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1016758
+SHUFFLE	COMPRESS_BYTE_COUNT	351051
+SHUFFLE	COPY_MAP_DATA	32710000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1120790
+SHUFFLE	COMPRESS_BYTE_COUNT	379277
+SHUFFLE	COPY_MAP_DATA	24222000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1082365
+SHUFFLE	COMPRESS_BYTE_COUNT	366798
+SHUFFLE	COPY_MAP_DATA	73881000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1109021
+SHUFFLE	COMPRESS_BYTE_COUNT	374572
+SHUFFLE	COPY_MAP_DATA	31838000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	795065
+SHUFFLE	COMPRESS_BYTE_COUNT	287753
+SHUFFLE	COPY_MAP_DATA	18212000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1121328
+SHUFFLE	COMPRESS_BYTE_COUNT	381074
+SHUFFLE	COPY_MAP_DATA	24720000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1134675
+SHUFFLE	COMPRESS_BYTE_COUNT	384204
+SHUFFLE	COPY_MAP_DATA	58305000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1113900
+SHUFFLE	COMPRESS_BYTE_COUNT	377891
+SHUFFLE	COPY_MAP_DATA	83021000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1088002
+SHUFFLE	COMPRESS_BYTE_COUNT	368709
+SHUFFLE	COPY_MAP_DATA	2026519000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	791951
+SHUFFLE	COMPRESS_BYTE_COUNT	289297
+SHUFFLE	COPY_MAP_DATA	22119000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1140017
+SHUFFLE	COMPRESS_BYTE_COUNT	385837
+SHUFFLE	COPY_MAP_DATA	27918000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1114921
+SHUFFLE	COMPRESS_BYTE_COUNT	376598
+SHUFFLE	COPY_MAP_DATA	110567000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1082565
+SHUFFLE	COMPRESS_BYTE_COUNT	365516
+SHUFFLE	COPY_MAP_DATA	1184977000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1167801
+SHUFFLE	COMPRESS_BYTE_COUNT	387345
+SHUFFLE	COPY_MAP_DATA	149578000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	937633
+SHUFFLE	COMPRESS_BYTE_COUNT	314034
+SHUFFLE	COPY_MAP_DATA	19858000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1130703
+SHUFFLE	COMPRESS_BYTE_COUNT	381749
+SHUFFLE	COPY_MAP_DATA	30415000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1237173
+SHUFFLE	COMPRESS_BYTE_COUNT	414132
+SHUFFLE	COPY_MAP_DATA	23747000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1098678
+SHUFFLE	COMPRESS_BYTE_COUNT	372387
+SHUFFLE	COPY_MAP_DATA	42396000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1076606
+SHUFFLE	COMPRESS_BYTE_COUNT	363334
+SHUFFLE	COPY_MAP_DATA	27218000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1102358
+SHUFFLE	COMPRESS_BYTE_COUNT	373752
+SHUFFLE	COPY_MAP_DATA	63281000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1104175
+SHUFFLE	COMPRESS_BYTE_COUNT	373490
+SHUFFLE	COPY_MAP_DATA	89223000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1057612
+SHUFFLE	COMPRESS_BYTE_COUNT	357327
+SHUFFLE	COPY_MAP_DATA	19760000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1001790
+SHUFFLE	COMPRESS_BYTE_COUNT	338813
+SHUFFLE	COPY_MAP_DATA	19926000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1078419
+SHUFFLE	COMPRESS_BYTE_COUNT	363633
+SHUFFLE	COPY_MAP_DATA	24994000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1002120
+SHUFFLE	COMPRESS_BYTE_COUNT	338305
+SHUFFLE	COPY_MAP_DATA	38269000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1092431
+SHUFFLE	COMPRESS_BYTE_COUNT	370238
+SHUFFLE	COPY_MAP_DATA	21230000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1107449
+SHUFFLE	COMPRESS_BYTE_COUNT	376822
+SHUFFLE	COPY_MAP_DATA	161854000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	743037
+SHUFFLE	COMPRESS_BYTE_COUNT	267521
+SHUFFLE	COPY_MAP_DATA	34290000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	753306
+SHUFFLE	COMPRESS_BYTE_COUNT	274063
+SHUFFLE	COPY_MAP_DATA	914844946
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	753808
+SHUFFLE	COMPRESS_BYTE_COUNT	274193
+SHUFFLE	COPY_MAP_DATA	221150000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	773278
+SHUFFLE	COMPRESS_BYTE_COUNT	281430
+SHUFFLE	COPY_MAP_DATA	2142711000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	788414
+SHUFFLE	COMPRESS_BYTE_COUNT	285262
+SHUFFLE	COPY_MAP_DATA	34002000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	835963
+SHUFFLE	COMPRESS_BYTE_COUNT	291594
+SHUFFLE	COPY_MAP_DATA	204566000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	791932
+SHUFFLE	COMPRESS_BYTE_COUNT	287783
+SHUFFLE	COPY_MAP_DATA	52299000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	755562
+SHUFFLE	COMPRESS_BYTE_COUNT	271390
+SHUFFLE	COPY_MAP_DATA	273957000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	846927
+SHUFFLE	COMPRESS_BYTE_COUNT	292194
+SHUFFLE	COPY_MAP_DATA	17905000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	778839
+SHUFFLE	COMPRESS_BYTE_COUNT	282638
+SHUFFLE	COPY_MAP_DATA	283503000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1011848
+SHUFFLE	COMPRESS_BYTE_COUNT	349810
+SHUFFLE	COPY_MAP_DATA	36967000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	745817
+SHUFFLE	COMPRESS_BYTE_COUNT	270484
+SHUFFLE	COPY_MAP_DATA	15237000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	708804
+SHUFFLE	COMPRESS_BYTE_COUNT	258676
+SHUFFLE	COPY_MAP_DATA	15466000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	768865
+SHUFFLE	COMPRESS_BYTE_COUNT	282429
+SHUFFLE	COPY_MAP_DATA	15483000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	743571
+SHUFFLE	COMPRESS_BYTE_COUNT	271100
+SHUFFLE	COPY_MAP_DATA	14352000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	846749
+SHUFFLE	COMPRESS_BYTE_COUNT	299155
+SHUFFLE	COPY_MAP_DATA	6905675000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1029280
+SHUFFLE	COMPRESS_BYTE_COUNT	354632
+SHUFFLE	COPY_MAP_DATA	61769000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	741467
+SHUFFLE	COMPRESS_BYTE_COUNT	270856
+SHUFFLE	COPY_MAP_DATA	17924000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	743251
+SHUFFLE	COMPRESS_BYTE_COUNT	272006
+SHUFFLE	COPY_MAP_DATA	191964000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	769154
+SHUFFLE	COMPRESS_BYTE_COUNT	278685
+SHUFFLE	COPY_MAP_DATA	14823000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	763703
+SHUFFLE	COMPRESS_BYTE_COUNT	276768
+SHUFFLE	COPY_MAP_DATA	73304000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	965403
+SHUFFLE	COMPRESS_BYTE_COUNT	334577
+SHUFFLE	COPY_MAP_DATA	17854000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1113011
+SHUFFLE	COMPRESS_BYTE_COUNT	377921
+SHUFFLE	COPY_MAP_DATA	53894000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1098868
+SHUFFLE	COMPRESS_BYTE_COUNT	374047
+SHUFFLE	COPY_MAP_DATA	266189000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1105900
+SHUFFLE	COMPRESS_BYTE_COUNT	374201
+SHUFFLE	COPY_MAP_DATA	27494000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	734444
+SHUFFLE	COMPRESS_BYTE_COUNT	267386
+SHUFFLE	COPY_MAP_DATA	42162000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	749391
+SHUFFLE	COMPRESS_BYTE_COUNT	269411
+SHUFFLE	COPY_MAP_DATA	15758000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	960022
+SHUFFLE	COMPRESS_BYTE_COUNT	333018
+SHUFFLE	COPY_MAP_DATA	69424000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1148232
+SHUFFLE	COMPRESS_BYTE_COUNT	392492
+SHUFFLE	COPY_MAP_DATA	116209000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	219497
+SHUFFLE	COMPRESS_BYTE_COUNT	95919
+SHUFFLE	COPY_MAP_DATA	224955000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	717781
+SHUFFLE	COMPRESS_BYTE_COUNT	261282
+SHUFFLE	COPY_MAP_DATA	459636000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	750947
+SHUFFLE	COMPRESS_BYTE_COUNT	273010
+SHUFFLE	COPY_MAP_DATA	134380000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1116825
+SHUFFLE	COMPRESS_BYTE_COUNT	378769
+SHUFFLE	COPY_MAP_DATA	223633000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	308962
+SHUFFLE	COMPRESS_BYTE_COUNT	126880
+SHUFFLE	COPY_MAP_DATA	101237000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	240326
+SHUFFLE	COMPRESS_BYTE_COUNT	104205
+SHUFFLE	COPY_MAP_DATA	28158000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	350142
+SHUFFLE	COMPRESS_BYTE_COUNT	139877
+SHUFFLE	COPY_MAP_DATA	9677000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	205634
+SHUFFLE	COMPRESS_BYTE_COUNT	89915
+SHUFFLE	COPY_MAP_DATA	7742000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	401338
+SHUFFLE	COMPRESS_BYTE_COUNT	158357
+SHUFFLE	COPY_MAP_DATA	33842000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	753238
+SHUFFLE	COMPRESS_BYTE_COUNT	274915
+SHUFFLE	COPY_MAP_DATA	16992000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	184858
+SHUFFLE	COMPRESS_BYTE_COUNT	80436
+SHUFFLE	COPY_MAP_DATA	170132000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	463838
+SHUFFLE	COMPRESS_BYTE_COUNT	179674
+SHUFFLE	COPY_MAP_DATA	671828000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	732822
+SHUFFLE	COMPRESS_BYTE_COUNT	268203
+SHUFFLE	COPY_MAP_DATA	58069000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	169984
+SHUFFLE	COMPRESS_BYTE_COUNT	74433
+SHUFFLE	COPY_MAP_DATA	83649000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	636183
+SHUFFLE	COMPRESS_BYTE_COUNT	235132
+SHUFFLE	COPY_MAP_DATA	70933000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	214623
+SHUFFLE	COMPRESS_BYTE_COUNT	91402
+SHUFFLE	COPY_MAP_DATA	26200000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	138862
+SHUFFLE	COMPRESS_BYTE_COUNT	61258
+SHUFFLE	COPY_MAP_DATA	4150000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	731803
+SHUFFLE	COMPRESS_BYTE_COUNT	267660
+SHUFFLE	COPY_MAP_DATA	16357000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	711214
+SHUFFLE	COMPRESS_BYTE_COUNT	259860
+SHUFFLE	COPY_MAP_DATA	14027000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	646588
+SHUFFLE	COMPRESS_BYTE_COUNT	236584
+SHUFFLE	COPY_MAP_DATA	14085000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	712701
+SHUFFLE	COMPRESS_BYTE_COUNT	260190
+SHUFFLE	COPY_MAP_DATA	14942000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	511622
+SHUFFLE	COMPRESS_BYTE_COUNT	197109
+SHUFFLE	COPY_MAP_DATA	64524000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	445026
+SHUFFLE	COMPRESS_BYTE_COUNT	171582
+SHUFFLE	COPY_MAP_DATA	15296000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	659546
+SHUFFLE	COMPRESS_BYTE_COUNT	241709
+SHUFFLE	COPY_MAP_DATA	46947000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	646780
+SHUFFLE	COMPRESS_BYTE_COUNT	238919
+SHUFFLE	COPY_MAP_DATA	13179000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	704353
+SHUFFLE	COMPRESS_BYTE_COUNT	257576
+SHUFFLE	COPY_MAP_DATA	14605000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	700620
+SHUFFLE	COMPRESS_BYTE_COUNT	255551
+SHUFFLE	COPY_MAP_DATA	13747000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	483635
+SHUFFLE	COMPRESS_BYTE_COUNT	186876
+SHUFFLE	COPY_MAP_DATA	10323000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	405681
+SHUFFLE	COMPRESS_BYTE_COUNT	158519
+SHUFFLE	COPY_MAP_DATA	11210000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	633630
+SHUFFLE	COMPRESS_BYTE_COUNT	237329
+SHUFFLE	COPY_MAP_DATA	24163000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	723384
+SHUFFLE	COMPRESS_BYTE_COUNT	264079
+SHUFFLE	COPY_MAP_DATA	27885000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	569128
+SHUFFLE	COMPRESS_BYTE_COUNT	219289
+SHUFFLE	COPY_MAP_DATA	12152000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	505433
+SHUFFLE	COMPRESS_BYTE_COUNT	195257
+SHUFFLE	COPY_MAP_DATA	11166000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	694739
+SHUFFLE	COMPRESS_BYTE_COUNT	254240
+SHUFFLE	COPY_MAP_DATA	13971000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	653599
+SHUFFLE	COMPRESS_BYTE_COUNT	240900
+SHUFFLE	COPY_MAP_DATA	12972000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	310466
+SHUFFLE	COMPRESS_BYTE_COUNT	110487
+SHUFFLE	COPY_MAP_DATA	8338000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	529415
+SHUFFLE	COMPRESS_BYTE_COUNT	204591
+SHUFFLE	COPY_MAP_DATA	14408000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	742679
+SHUFFLE	COMPRESS_BYTE_COUNT	268789
+SHUFFLE	COPY_MAP_DATA	15491000
+SHUFFLE	UNCOMPRESS	0
+SORT	MERGE_MAP_DATA	35189720794
+SORT	READ_WRITE	35114378794
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	105201936
+REDUCE	SETUP	339000
+REDUCE	SETUP_MEM	105201936
+REDUCE	CLEANUP	29000
+REDUCE	CLEANUP_MEM	100790072
+REDUCE	TOTAL_RUN	20249967000
+REDUCE	READ	827162000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	11521214000
+REDUCE	WRITE	3885177000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	11659975
+REDUCE	VALUE_BYTE_COUNT	1194681
+REDUCE	REDUCE_MEM	100790072
+REDUCE	WRITE	106590000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	555231088502
@@ -0,0 +1,410 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1126037
+SHUFFLE	COMPRESS_BYTE_COUNT	382030
+SHUFFLE	COPY_MAP_DATA	80604000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1074267
+SHUFFLE	COMPRESS_BYTE_COUNT	367710
+SHUFFLE	COPY_MAP_DATA	165060000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	803459
+SHUFFLE	COMPRESS_BYTE_COUNT	290332
+SHUFFLE	COPY_MAP_DATA	19209000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1140250
+SHUFFLE	COMPRESS_BYTE_COUNT	385250
+SHUFFLE	COPY_MAP_DATA	97048000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1031515
+SHUFFLE	COMPRESS_BYTE_COUNT	353609
+SHUFFLE	COPY_MAP_DATA	29127000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1131581
+SHUFFLE	COMPRESS_BYTE_COUNT	380447
+SHUFFLE	COPY_MAP_DATA	24543000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1099493
+SHUFFLE	COMPRESS_BYTE_COUNT	371579
+SHUFFLE	COPY_MAP_DATA	31193000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1005872
+SHUFFLE	COMPRESS_BYTE_COUNT	336022
+SHUFFLE	COPY_MAP_DATA	57045000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1128845
+SHUFFLE	COMPRESS_BYTE_COUNT	381574
+SHUFFLE	COPY_MAP_DATA	23373000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1123047
+SHUFFLE	COMPRESS_BYTE_COUNT	380088
+SHUFFLE	COPY_MAP_DATA	28057000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	804332
+SHUFFLE	COMPRESS_BYTE_COUNT	292191
+SHUFFLE	COPY_MAP_DATA	60209000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1145381
+SHUFFLE	COMPRESS_BYTE_COUNT	387772
+SHUFFLE	COPY_MAP_DATA	69337000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1158222
+SHUFFLE	COMPRESS_BYTE_COUNT	390708
+SHUFFLE	COPY_MAP_DATA	58784000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1105588
+SHUFFLE	COMPRESS_BYTE_COUNT	373350
+SHUFFLE	COPY_MAP_DATA	715246000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1183196
+SHUFFLE	COMPRESS_BYTE_COUNT	390270
+SHUFFLE	COPY_MAP_DATA	23738000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1131375
+SHUFFLE	COMPRESS_BYTE_COUNT	382417
+SHUFFLE	COPY_MAP_DATA	40258000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1097252
+SHUFFLE	COMPRESS_BYTE_COUNT	370467
+SHUFFLE	COPY_MAP_DATA	27943000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	957679
+SHUFFLE	COMPRESS_BYTE_COUNT	319705
+SHUFFLE	COPY_MAP_DATA	18546000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1139213
+SHUFFLE	COMPRESS_BYTE_COUNT	385196
+SHUFFLE	COPY_MAP_DATA	28707000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1107455
+SHUFFLE	COMPRESS_BYTE_COUNT	374678
+SHUFFLE	COPY_MAP_DATA	20598000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1248818
+SHUFFLE	COMPRESS_BYTE_COUNT	416126
+SHUFFLE	COPY_MAP_DATA	66073000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1090149
+SHUFFLE	COMPRESS_BYTE_COUNT	366376
+SHUFFLE	COPY_MAP_DATA	127769000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1112324
+SHUFFLE	COMPRESS_BYTE_COUNT	376069
+SHUFFLE	COPY_MAP_DATA	82108000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1115350
+SHUFFLE	COMPRESS_BYTE_COUNT	375234
+SHUFFLE	COPY_MAP_DATA	29321000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1025091
+SHUFFLE	COMPRESS_BYTE_COUNT	344311
+SHUFFLE	COPY_MAP_DATA	20804000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1081436
+SHUFFLE	COMPRESS_BYTE_COUNT	364044
+SHUFFLE	COPY_MAP_DATA	23406000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1094898
+SHUFFLE	COMPRESS_BYTE_COUNT	369178
+SHUFFLE	COPY_MAP_DATA	20688000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1012951
+SHUFFLE	COMPRESS_BYTE_COUNT	340483
+SHUFFLE	COPY_MAP_DATA	33397000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1105447
+SHUFFLE	COMPRESS_BYTE_COUNT	374214
+SHUFFLE	COPY_MAP_DATA	21899000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1118917
+SHUFFLE	COMPRESS_BYTE_COUNT	378645
+SHUFFLE	COPY_MAP_DATA	19857000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	756400
+SHUFFLE	COMPRESS_BYTE_COUNT	270614
+SHUFFLE	COPY_MAP_DATA	113412000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	761152
+SHUFFLE	COMPRESS_BYTE_COUNT	275662
+SHUFFLE	COPY_MAP_DATA	114389000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	764165
+SHUFFLE	COMPRESS_BYTE_COUNT	277429
+SHUFFLE	COPY_MAP_DATA	18372000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	788471
+SHUFFLE	COMPRESS_BYTE_COUNT	286409
+SHUFFLE	COPY_MAP_DATA	17898000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	851633
+SHUFFLE	COMPRESS_BYTE_COUNT	295971
+SHUFFLE	COPY_MAP_DATA	1111258000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	795721
+SHUFFLE	COMPRESS_BYTE_COUNT	287348
+SHUFFLE	COPY_MAP_DATA	77084000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	796315
+SHUFFLE	COMPRESS_BYTE_COUNT	287797
+SHUFFLE	COPY_MAP_DATA	28455000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	765374
+SHUFFLE	COMPRESS_BYTE_COUNT	273955
+SHUFFLE	COPY_MAP_DATA	726041000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	853207
+SHUFFLE	COMPRESS_BYTE_COUNT	293801
+SHUFFLE	COPY_MAP_DATA	253088000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	789251
+SHUFFLE	COMPRESS_BYTE_COUNT	286651
+SHUFFLE	COPY_MAP_DATA	1164929000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1023902
+SHUFFLE	COMPRESS_BYTE_COUNT	352511
+SHUFFLE	COPY_MAP_DATA	447228000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	756952
+SHUFFLE	COMPRESS_BYTE_COUNT	274104
+SHUFFLE	COPY_MAP_DATA	17364000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	778209
+SHUFFLE	COMPRESS_BYTE_COUNT	284136
+SHUFFLE	COPY_MAP_DATA	2990591000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	715059
+SHUFFLE	COMPRESS_BYTE_COUNT	260379
+SHUFFLE	COPY_MAP_DATA	196498000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1043580
+SHUFFLE	COMPRESS_BYTE_COUNT	357110
+SHUFFLE	COPY_MAP_DATA	20420000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	854219
+SHUFFLE	COMPRESS_BYTE_COUNT	301119
+SHUFFLE	COPY_MAP_DATA	45560000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	750338
+SHUFFLE	COMPRESS_BYTE_COUNT	273713
+SHUFFLE	COPY_MAP_DATA	17810000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	754426
+SHUFFLE	COMPRESS_BYTE_COUNT	275629
+SHUFFLE	COPY_MAP_DATA	89946000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	751630
+SHUFFLE	COMPRESS_BYTE_COUNT	273345
+SHUFFLE	COPY_MAP_DATA	100987000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	785697
+SHUFFLE	COMPRESS_BYTE_COUNT	283152
+SHUFFLE	COPY_MAP_DATA	43384000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	781057
+SHUFFLE	COMPRESS_BYTE_COUNT	283109
+SHUFFLE	COPY_MAP_DATA	173398000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	980752
+SHUFFLE	COMPRESS_BYTE_COUNT	338666
+SHUFFLE	COPY_MAP_DATA	24501000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	746844
+SHUFFLE	COMPRESS_BYTE_COUNT	271210
+SHUFFLE	COPY_MAP_DATA	790559000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1130303
+SHUFFLE	COMPRESS_BYTE_COUNT	382303
+SHUFFLE	COPY_MAP_DATA	20328000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1112320
+SHUFFLE	COMPRESS_BYTE_COUNT	375900
+SHUFFLE	COPY_MAP_DATA	155874000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	762663
+SHUFFLE	COMPRESS_BYTE_COUNT	272918
+SHUFFLE	COPY_MAP_DATA	191488000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1123474
+SHUFFLE	COMPRESS_BYTE_COUNT	380844
+SHUFFLE	COPY_MAP_DATA	1736714000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	965862
+SHUFFLE	COMPRESS_BYTE_COUNT	334409
+SHUFFLE	COPY_MAP_DATA	166351000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1163236
+SHUFFLE	COMPRESS_BYTE_COUNT	396896
+SHUFFLE	COPY_MAP_DATA	215737000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	221905
+SHUFFLE	COMPRESS_BYTE_COUNT	96882
+SHUFFLE	COPY_MAP_DATA	1299966000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	722045
+SHUFFLE	COMPRESS_BYTE_COUNT	262003
+SHUFFLE	COPY_MAP_DATA	2820740000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1134666
+SHUFFLE	COMPRESS_BYTE_COUNT	383025
+SHUFFLE	COPY_MAP_DATA	66365000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	754144
+SHUFFLE	COMPRESS_BYTE_COUNT	274563
+SHUFFLE	COPY_MAP_DATA	15251000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	314916
+SHUFFLE	COMPRESS_BYTE_COUNT	128949
+SHUFFLE	COPY_MAP_DATA	382397000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	244937
+SHUFFLE	COMPRESS_BYTE_COUNT	106225
+SHUFFLE	COPY_MAP_DATA	190800000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	359900
+SHUFFLE	COMPRESS_BYTE_COUNT	143533
+SHUFFLE	COPY_MAP_DATA	14865000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	409780
+SHUFFLE	COMPRESS_BYTE_COUNT	161227
+SHUFFLE	COPY_MAP_DATA	9848000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	208472
+SHUFFLE	COMPRESS_BYTE_COUNT	91147
+SHUFFLE	COPY_MAP_DATA	1356884000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	757330
+SHUFFLE	COMPRESS_BYTE_COUNT	274825
+SHUFFLE	COPY_MAP_DATA	84106000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	185498
+SHUFFLE	COMPRESS_BYTE_COUNT	80904
+SHUFFLE	COPY_MAP_DATA	1577719000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	741183
+SHUFFLE	COMPRESS_BYTE_COUNT	269758
+SHUFFLE	COPY_MAP_DATA	3059391000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	474403
+SHUFFLE	COMPRESS_BYTE_COUNT	183791
+SHUFFLE	COPY_MAP_DATA	11766000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	169568
+SHUFFLE	COMPRESS_BYTE_COUNT	74038
+SHUFFLE	COPY_MAP_DATA	6871000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	216869
+SHUFFLE	COMPRESS_BYTE_COUNT	92871
+SHUFFLE	COPY_MAP_DATA	12867000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	644495
+SHUFFLE	COMPRESS_BYTE_COUNT	237366
+SHUFFLE	COPY_MAP_DATA	50422000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	141347
+SHUFFLE	COMPRESS_BYTE_COUNT	62193
+SHUFFLE	COPY_MAP_DATA	1380822000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	748668
+SHUFFLE	COMPRESS_BYTE_COUNT	271592
+SHUFFLE	COPY_MAP_DATA	127440000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	729525
+SHUFFLE	COMPRESS_BYTE_COUNT	266067
+SHUFFLE	COPY_MAP_DATA	112321000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	721273
+SHUFFLE	COMPRESS_BYTE_COUNT	261755
+SHUFFLE	COPY_MAP_DATA	15321000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	664004
+SHUFFLE	COMPRESS_BYTE_COUNT	242810
+SHUFFLE	COPY_MAP_DATA	14065000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	521421
+SHUFFLE	COMPRESS_BYTE_COUNT	200828
+SHUFFLE	COPY_MAP_DATA	14188000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	445992
+SHUFFLE	COMPRESS_BYTE_COUNT	171452
+SHUFFLE	COPY_MAP_DATA	10803000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	666270
+SHUFFLE	COMPRESS_BYTE_COUNT	243447
+SHUFFLE	COPY_MAP_DATA	146158000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	659306
+SHUFFLE	COMPRESS_BYTE_COUNT	242697
+SHUFFLE	COPY_MAP_DATA	13957000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	716182
+SHUFFLE	COMPRESS_BYTE_COUNT	261458
+SHUFFLE	COPY_MAP_DATA	15291000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	644267
+SHUFFLE	COMPRESS_BYTE_COUNT	241497
+SHUFFLE	COPY_MAP_DATA	13459000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	410870
+SHUFFLE	COMPRESS_BYTE_COUNT	160717
+SHUFFLE	COPY_MAP_DATA	9851000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	711947
+SHUFFLE	COMPRESS_BYTE_COUNT	260287
+SHUFFLE	COPY_MAP_DATA	42948000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	490355
+SHUFFLE	COMPRESS_BYTE_COUNT	189232
+SHUFFLE	COPY_MAP_DATA	10900000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	732392
+SHUFFLE	COMPRESS_BYTE_COUNT	266183
+SHUFFLE	COPY_MAP_DATA	23804000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	581242
+SHUFFLE	COMPRESS_BYTE_COUNT	223174
+SHUFFLE	COPY_MAP_DATA	23990000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	702127
+SHUFFLE	COMPRESS_BYTE_COUNT	256574
+SHUFFLE	COPY_MAP_DATA	14841000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	670432
+SHUFFLE	COMPRESS_BYTE_COUNT	246566
+SHUFFLE	COPY_MAP_DATA	13245000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	320929
+SHUFFLE	COMPRESS_BYTE_COUNT	113976
+SHUFFLE	COPY_MAP_DATA	9070000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	509224
+SHUFFLE	COMPRESS_BYTE_COUNT	196096
+SHUFFLE	COPY_MAP_DATA	13685000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	530854
+SHUFFLE	COMPRESS_BYTE_COUNT	205795
+SHUFFLE	COPY_MAP_DATA	12925000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	756841
+SHUFFLE	COMPRESS_BYTE_COUNT	272753
+SHUFFLE	COPY_MAP_DATA	98252000
+SHUFFLE	UNCOMPRESS	0
+SORT	MERGE_MAP_DATA	35003750000
+SORT	READ_WRITE	34898901000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	92366560
+REDUCE	SETUP	386000
+REDUCE	SETUP_MEM	92366560
+REDUCE	CLEANUP	27000
+REDUCE	CLEANUP_MEM	101014192
+REDUCE	TOTAL_RUN	16415438000
+REDUCE	READ	1093548000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	9865717000
+REDUCE	WRITE	2806410000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	11653309
+REDUCE	VALUE_BYTE_COUNT	1195662
+REDUCE	REDUCE_MEM	101014192
+REDUCE	WRITE	8966000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	553558761319
@@ -0,0 +1,410 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	796730
+SHUFFLE	COMPRESS_BYTE_COUNT	288369
+SHUFFLE	COPY_MAP_DATA	95405000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	987870
+SHUFFLE	COMPRESS_BYTE_COUNT	330245
+SHUFFLE	COPY_MAP_DATA	20149000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1069092
+SHUFFLE	COMPRESS_BYTE_COUNT	365791
+SHUFFLE	COPY_MAP_DATA	47386000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1118326
+SHUFFLE	COMPRESS_BYTE_COUNT	377562
+SHUFFLE	COPY_MAP_DATA	41554000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1126938
+SHUFFLE	COMPRESS_BYTE_COUNT	383463
+SHUFFLE	COPY_MAP_DATA	89047000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1127872
+SHUFFLE	COMPRESS_BYTE_COUNT	383810
+SHUFFLE	COPY_MAP_DATA	309417000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1090429
+SHUFFLE	COMPRESS_BYTE_COUNT	368791
+SHUFFLE	COPY_MAP_DATA	123250000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	794998
+SHUFFLE	COMPRESS_BYTE_COUNT	289842
+SHUFFLE	COPY_MAP_DATA	19418000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1122201
+SHUFFLE	COMPRESS_BYTE_COUNT	381741
+SHUFFLE	COPY_MAP_DATA	167312000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1146512
+SHUFFLE	COMPRESS_BYTE_COUNT	388072
+SHUFFLE	COPY_MAP_DATA	27209000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1145372
+SHUFFLE	COMPRESS_BYTE_COUNT	386665
+SHUFFLE	COPY_MAP_DATA	127011000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1025396
+SHUFFLE	COMPRESS_BYTE_COUNT	353343
+SHUFFLE	COPY_MAP_DATA	103319000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1123411
+SHUFFLE	COMPRESS_BYTE_COUNT	379492
+SHUFFLE	COPY_MAP_DATA	493747000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1090722
+SHUFFLE	COMPRESS_BYTE_COUNT	370196
+SHUFFLE	COPY_MAP_DATA	61410000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1172750
+SHUFFLE	COMPRESS_BYTE_COUNT	389055
+SHUFFLE	COPY_MAP_DATA	1005683000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1090071
+SHUFFLE	COMPRESS_BYTE_COUNT	369920
+SHUFFLE	COPY_MAP_DATA	1169817000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1119482
+SHUFFLE	COMPRESS_BYTE_COUNT	379382
+SHUFFLE	COPY_MAP_DATA	233537000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1128429
+SHUFFLE	COMPRESS_BYTE_COUNT	383356
+SHUFFLE	COPY_MAP_DATA	34207000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	951997
+SHUFFLE	COMPRESS_BYTE_COUNT	319220
+SHUFFLE	COPY_MAP_DATA	123357000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1098013
+SHUFFLE	COMPRESS_BYTE_COUNT	372191
+SHUFFLE	COPY_MAP_DATA	19572000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1237961
+SHUFFLE	COMPRESS_BYTE_COUNT	413491
+SHUFFLE	COPY_MAP_DATA	28904000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1080013
+SHUFFLE	COMPRESS_BYTE_COUNT	364703
+SHUFFLE	COPY_MAP_DATA	26521000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1014841
+SHUFFLE	COMPRESS_BYTE_COUNT	343058
+SHUFFLE	COPY_MAP_DATA	297959000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1104473
+SHUFFLE	COMPRESS_BYTE_COUNT	372762
+SHUFFLE	COPY_MAP_DATA	129979000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1062672
+SHUFFLE	COMPRESS_BYTE_COUNT	359658
+SHUFFLE	COPY_MAP_DATA	20179000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1111160
+SHUFFLE	COMPRESS_BYTE_COUNT	377667
+SHUFFLE	COPY_MAP_DATA	1578174000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1085375
+SHUFFLE	COMPRESS_BYTE_COUNT	366552
+SHUFFLE	COPY_MAP_DATA	1418970000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1002692
+SHUFFLE	COMPRESS_BYTE_COUNT	337293
+SHUFFLE	COPY_MAP_DATA	18575000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1089343
+SHUFFLE	COMPRESS_BYTE_COUNT	370982
+SHUFFLE	COPY_MAP_DATA	20716000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1114433
+SHUFFLE	COMPRESS_BYTE_COUNT	379393
+SHUFFLE	COPY_MAP_DATA	54351000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	753329
+SHUFFLE	COMPRESS_BYTE_COUNT	270662
+SHUFFLE	COPY_MAP_DATA	17396000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	752650
+SHUFFLE	COMPRESS_BYTE_COUNT	273651
+SHUFFLE	COPY_MAP_DATA	2200447000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	758543
+SHUFFLE	COMPRESS_BYTE_COUNT	275471
+SHUFFLE	COPY_MAP_DATA	119313000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	784392
+SHUFFLE	COMPRESS_BYTE_COUNT	286662
+SHUFFLE	COPY_MAP_DATA	32640000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	796076
+SHUFFLE	COMPRESS_BYTE_COUNT	288159
+SHUFFLE	COPY_MAP_DATA	175775000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	844551
+SHUFFLE	COMPRESS_BYTE_COUNT	293983
+SHUFFLE	COPY_MAP_DATA	180362000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	797687
+SHUFFLE	COMPRESS_BYTE_COUNT	289476
+SHUFFLE	COPY_MAP_DATA	35514000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	752592
+SHUFFLE	COMPRESS_BYTE_COUNT	269973
+SHUFFLE	COPY_MAP_DATA	63801000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	848613
+SHUFFLE	COMPRESS_BYTE_COUNT	293275
+SHUFFLE	COPY_MAP_DATA	29297000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1025257
+SHUFFLE	COMPRESS_BYTE_COUNT	355140
+SHUFFLE	COPY_MAP_DATA	18924000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	780170
+SHUFFLE	COMPRESS_BYTE_COUNT	283569
+SHUFFLE	COPY_MAP_DATA	98992000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	747352
+SHUFFLE	COMPRESS_BYTE_COUNT	271073
+SHUFFLE	COPY_MAP_DATA	67230000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	710439
+SHUFFLE	COMPRESS_BYTE_COUNT	258491
+SHUFFLE	COPY_MAP_DATA	15241000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	775523
+SHUFFLE	COMPRESS_BYTE_COUNT	283943
+SHUFFLE	COPY_MAP_DATA	26108000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1032168
+SHUFFLE	COMPRESS_BYTE_COUNT	354906
+SHUFFLE	COPY_MAP_DATA	160283000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	740898
+SHUFFLE	COMPRESS_BYTE_COUNT	270274
+SHUFFLE	COPY_MAP_DATA	13066000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	851809
+SHUFFLE	COMPRESS_BYTE_COUNT	300912
+SHUFFLE	COPY_MAP_DATA	16199902000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	741583
+SHUFFLE	COMPRESS_BYTE_COUNT	271024
+SHUFFLE	COPY_MAP_DATA	40115000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	749348
+SHUFFLE	COMPRESS_BYTE_COUNT	273506
+SHUFFLE	COPY_MAP_DATA	188251000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	773428
+SHUFFLE	COMPRESS_BYTE_COUNT	280867
+SHUFFLE	COPY_MAP_DATA	16556000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	771220
+SHUFFLE	COMPRESS_BYTE_COUNT	278961
+SHUFFLE	COPY_MAP_DATA	14882000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	970159
+SHUFFLE	COMPRESS_BYTE_COUNT	336619
+SHUFFLE	COPY_MAP_DATA	25554000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1117979
+SHUFFLE	COMPRESS_BYTE_COUNT	378533
+SHUFFLE	COPY_MAP_DATA	2771596000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	734258
+SHUFFLE	COMPRESS_BYTE_COUNT	267041
+SHUFFLE	COPY_MAP_DATA	427289000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1116949
+SHUFFLE	COMPRESS_BYTE_COUNT	379311
+SHUFFLE	COPY_MAP_DATA	125017000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1105747
+SHUFFLE	COMPRESS_BYTE_COUNT	376608
+SHUFFLE	COPY_MAP_DATA	169788000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	753312
+SHUFFLE	COMPRESS_BYTE_COUNT	271047
+SHUFFLE	COPY_MAP_DATA	823942000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	961797
+SHUFFLE	COMPRESS_BYTE_COUNT	333792
+SHUFFLE	COPY_MAP_DATA	160371000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1158915
+SHUFFLE	COMPRESS_BYTE_COUNT	396014
+SHUFFLE	COPY_MAP_DATA	491152000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	216940
+SHUFFLE	COMPRESS_BYTE_COUNT	94918
+SHUFFLE	COPY_MAP_DATA	582848000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	714606
+SHUFFLE	COMPRESS_BYTE_COUNT	259898
+SHUFFLE	COPY_MAP_DATA	1863950000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1115342
+SHUFFLE	COMPRESS_BYTE_COUNT	378110
+SHUFFLE	COPY_MAP_DATA	22008000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	759485
+SHUFFLE	COMPRESS_BYTE_COUNT	277175
+SHUFFLE	COPY_MAP_DATA	15238000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	313524
+SHUFFLE	COMPRESS_BYTE_COUNT	128926
+SHUFFLE	COPY_MAP_DATA	439309000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	243146
+SHUFFLE	COMPRESS_BYTE_COUNT	105162
+SHUFFLE	COPY_MAP_DATA	2230661000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	350528
+SHUFFLE	COMPRESS_BYTE_COUNT	139783
+SHUFFLE	COPY_MAP_DATA	4359439000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	406197
+SHUFFLE	COMPRESS_BYTE_COUNT	159349
+SHUFFLE	COPY_MAP_DATA	1741881000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	207116
+SHUFFLE	COMPRESS_BYTE_COUNT	90433
+SHUFFLE	COPY_MAP_DATA	413667000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	755830
+SHUFFLE	COMPRESS_BYTE_COUNT	275381
+SHUFFLE	COPY_MAP_DATA	1180507000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	185638
+SHUFFLE	COMPRESS_BYTE_COUNT	80728
+SHUFFLE	COPY_MAP_DATA	1440593000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	733710
+SHUFFLE	COMPRESS_BYTE_COUNT	268297
+SHUFFLE	COPY_MAP_DATA	20005000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	215742
+SHUFFLE	COMPRESS_BYTE_COUNT	92355
+SHUFFLE	COPY_MAP_DATA	38301000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	168267
+SHUFFLE	COMPRESS_BYTE_COUNT	74165
+SHUFFLE	COPY_MAP_DATA	6311000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	464261
+SHUFFLE	COMPRESS_BYTE_COUNT	180309
+SHUFFLE	COPY_MAP_DATA	20016000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	139119
+SHUFFLE	COMPRESS_BYTE_COUNT	61262
+SHUFFLE	COPY_MAP_DATA	4557000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	643191
+SHUFFLE	COMPRESS_BYTE_COUNT	238061
+SHUFFLE	COPY_MAP_DATA	13420000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	737328
+SHUFFLE	COMPRESS_BYTE_COUNT	269207
+SHUFFLE	COPY_MAP_DATA	24847000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	717769
+SHUFFLE	COMPRESS_BYTE_COUNT	261958
+SHUFFLE	COPY_MAP_DATA	13872000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	716869
+SHUFFLE	COMPRESS_BYTE_COUNT	261908
+SHUFFLE	COPY_MAP_DATA	16192000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	659691
+SHUFFLE	COMPRESS_BYTE_COUNT	241614
+SHUFFLE	COPY_MAP_DATA	14678000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	661578
+SHUFFLE	COMPRESS_BYTE_COUNT	243583
+SHUFFLE	COPY_MAP_DATA	32838000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	512118
+SHUFFLE	COMPRESS_BYTE_COUNT	196814
+SHUFFLE	COPY_MAP_DATA	12211000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	446710
+SHUFFLE	COMPRESS_BYTE_COUNT	172324
+SHUFFLE	COPY_MAP_DATA	20953000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	486712
+SHUFFLE	COMPRESS_BYTE_COUNT	188250
+SHUFFLE	COPY_MAP_DATA	12317000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	635680
+SHUFFLE	COMPRESS_BYTE_COUNT	238270
+SHUFFLE	COPY_MAP_DATA	28146000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	650237
+SHUFFLE	COMPRESS_BYTE_COUNT	240557
+SHUFFLE	COPY_MAP_DATA	13752000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	709935
+SHUFFLE	COMPRESS_BYTE_COUNT	260180
+SHUFFLE	COPY_MAP_DATA	14876000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	702918
+SHUFFLE	COMPRESS_BYTE_COUNT	256827
+SHUFFLE	COPY_MAP_DATA	39415000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	407318
+SHUFFLE	COMPRESS_BYTE_COUNT	159164
+SHUFFLE	COPY_MAP_DATA	11149000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	728954
+SHUFFLE	COMPRESS_BYTE_COUNT	265862
+SHUFFLE	COPY_MAP_DATA	25841000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	573758
+SHUFFLE	COMPRESS_BYTE_COUNT	221334
+SHUFFLE	COPY_MAP_DATA	13305000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	506654
+SHUFFLE	COMPRESS_BYTE_COUNT	195698
+SHUFFLE	COPY_MAP_DATA	12153000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	698311
+SHUFFLE	COMPRESS_BYTE_COUNT	255740
+SHUFFLE	COPY_MAP_DATA	24988000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	662939
+SHUFFLE	COMPRESS_BYTE_COUNT	244101
+SHUFFLE	COPY_MAP_DATA	12708000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	531695
+SHUFFLE	COMPRESS_BYTE_COUNT	206161
+SHUFFLE	COPY_MAP_DATA	21850000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	311692
+SHUFFLE	COMPRESS_BYTE_COUNT	111061
+SHUFFLE	COPY_MAP_DATA	8619000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	736194
+SHUFFLE	COMPRESS_BYTE_COUNT	265432
+SHUFFLE	COPY_MAP_DATA	25945000
+SHUFFLE	UNCOMPRESS	0
+SORT	MERGE_MAP_DATA	35365133000
+SORT	READ_WRITE	35259931000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	105950440
+REDUCE	SETUP	335000
+REDUCE	SETUP_MEM	105950440
+REDUCE	CLEANUP	27000
+REDUCE	CLEANUP_MEM	73721584
+REDUCE	TOTAL_RUN	18015266000
+REDUCE	READ	1077261000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	10840372000
+REDUCE	WRITE	2991117000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	11658098
+REDUCE	VALUE_BYTE_COUNT	1195388
+REDUCE	REDUCE_MEM	73721584
+REDUCE	WRITE	97262000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	559381701973
@@ -0,0 +1,410 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	794870
+SHUFFLE	COMPRESS_BYTE_COUNT	288706
+SHUFFLE	COPY_MAP_DATA	58415000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1123364
+SHUFFLE	COMPRESS_BYTE_COUNT	381556
+SHUFFLE	COPY_MAP_DATA	51371000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1118523
+SHUFFLE	COMPRESS_BYTE_COUNT	378475
+SHUFFLE	COPY_MAP_DATA	21027000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1070435
+SHUFFLE	COMPRESS_BYTE_COUNT	366464
+SHUFFLE	COPY_MAP_DATA	3512927000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1090450
+SHUFFLE	COMPRESS_BYTE_COUNT	369993
+SHUFFLE	COPY_MAP_DATA	112459000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1121831
+SHUFFLE	COMPRESS_BYTE_COUNT	377597
+SHUFFLE	COPY_MAP_DATA	20915000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1016341
+SHUFFLE	COMPRESS_BYTE_COUNT	350365
+SHUFFLE	COPY_MAP_DATA	27057000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	992885
+SHUFFLE	COMPRESS_BYTE_COUNT	332959
+SHUFFLE	COPY_MAP_DATA	32210000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1118509
+SHUFFLE	COMPRESS_BYTE_COUNT	381260
+SHUFFLE	COPY_MAP_DATA	129615000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1180784
+SHUFFLE	COMPRESS_BYTE_COUNT	391663
+SHUFFLE	COPY_MAP_DATA	106076000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	792436
+SHUFFLE	COMPRESS_BYTE_COUNT	288494
+SHUFFLE	COPY_MAP_DATA	123721000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1148101
+SHUFFLE	COMPRESS_BYTE_COUNT	388037
+SHUFFLE	COPY_MAP_DATA	62995000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1122970
+SHUFFLE	COMPRESS_BYTE_COUNT	382023
+SHUFFLE	COPY_MAP_DATA	25859000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1121173
+SHUFFLE	COMPRESS_BYTE_COUNT	380080
+SHUFFLE	COPY_MAP_DATA	63133000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1085573
+SHUFFLE	COMPRESS_BYTE_COUNT	367193
+SHUFFLE	COPY_MAP_DATA	1171814000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1094434
+SHUFFLE	COMPRESS_BYTE_COUNT	370207
+SHUFFLE	COPY_MAP_DATA	20521000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1128422
+SHUFFLE	COMPRESS_BYTE_COUNT	382329
+SHUFFLE	COPY_MAP_DATA	21090000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1130565
+SHUFFLE	COMPRESS_BYTE_COUNT	383797
+SHUFFLE	COPY_MAP_DATA	112316000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	947857
+SHUFFLE	COMPRESS_BYTE_COUNT	317445
+SHUFFLE	COPY_MAP_DATA	98628000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1098078
+SHUFFLE	COMPRESS_BYTE_COUNT	372043
+SHUFFLE	COPY_MAP_DATA	1971982000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1245410
+SHUFFLE	COMPRESS_BYTE_COUNT	416372
+SHUFFLE	COPY_MAP_DATA	148556000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1075131
+SHUFFLE	COMPRESS_BYTE_COUNT	363547
+SHUFFLE	COPY_MAP_DATA	1539969000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1112734
+SHUFFLE	COMPRESS_BYTE_COUNT	378897
+SHUFFLE	COPY_MAP_DATA	271648000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1109517
+SHUFFLE	COMPRESS_BYTE_COUNT	374823
+SHUFFLE	COPY_MAP_DATA	32874000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1064566
+SHUFFLE	COMPRESS_BYTE_COUNT	358319
+SHUFFLE	COPY_MAP_DATA	22612000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1009234
+SHUFFLE	COMPRESS_BYTE_COUNT	341357
+SHUFFLE	COPY_MAP_DATA	79208000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1087443
+SHUFFLE	COMPRESS_BYTE_COUNT	367667
+SHUFFLE	COPY_MAP_DATA	109972000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1002951
+SHUFFLE	COMPRESS_BYTE_COUNT	338276
+SHUFFLE	COPY_MAP_DATA	39836000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1084206
+SHUFFLE	COMPRESS_BYTE_COUNT	367935
+SHUFFLE	COPY_MAP_DATA	144592000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1109180
+SHUFFLE	COMPRESS_BYTE_COUNT	377943
+SHUFFLE	COPY_MAP_DATA	20916000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	744958
+SHUFFLE	COMPRESS_BYTE_COUNT	268047
+SHUFFLE	COPY_MAP_DATA	16713000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	751196
+SHUFFLE	COMPRESS_BYTE_COUNT	273273
+SHUFFLE	COPY_MAP_DATA	1477035000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	756710
+SHUFFLE	COMPRESS_BYTE_COUNT	275433
+SHUFFLE	COPY_MAP_DATA	91265000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	779133
+SHUFFLE	COMPRESS_BYTE_COUNT	284128
+SHUFFLE	COPY_MAP_DATA	1936036000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	841388
+SHUFFLE	COMPRESS_BYTE_COUNT	293896
+SHUFFLE	COPY_MAP_DATA	504454000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	788919
+SHUFFLE	COMPRESS_BYTE_COUNT	286452
+SHUFFLE	COPY_MAP_DATA	16568000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	793118
+SHUFFLE	COMPRESS_BYTE_COUNT	288024
+SHUFFLE	COPY_MAP_DATA	16595000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	751978
+SHUFFLE	COMPRESS_BYTE_COUNT	269911
+SHUFFLE	COPY_MAP_DATA	1220211000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	843690
+SHUFFLE	COMPRESS_BYTE_COUNT	290932
+SHUFFLE	COPY_MAP_DATA	914361000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	779268
+SHUFFLE	COMPRESS_BYTE_COUNT	282701
+SHUFFLE	COPY_MAP_DATA	74694000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1015666
+SHUFFLE	COMPRESS_BYTE_COUNT	351616
+SHUFFLE	COPY_MAP_DATA	386869000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	749294
+SHUFFLE	COMPRESS_BYTE_COUNT	272859
+SHUFFLE	COPY_MAP_DATA	434166000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	773565
+SHUFFLE	COMPRESS_BYTE_COUNT	284538
+SHUFFLE	COPY_MAP_DATA	38485000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	707327
+SHUFFLE	COMPRESS_BYTE_COUNT	257410
+SHUFFLE	COPY_MAP_DATA	207592000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	748189
+SHUFFLE	COMPRESS_BYTE_COUNT	273319
+SHUFFLE	COPY_MAP_DATA	99787000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	847821
+SHUFFLE	COMPRESS_BYTE_COUNT	299266
+SHUFFLE	COPY_MAP_DATA	7446769000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1035195
+SHUFFLE	COMPRESS_BYTE_COUNT	355956
+SHUFFLE	COPY_MAP_DATA	4512305000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	743450
+SHUFFLE	COMPRESS_BYTE_COUNT	271783
+SHUFFLE	COPY_MAP_DATA	16675000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	744887
+SHUFFLE	COMPRESS_BYTE_COUNT	271466
+SHUFFLE	COPY_MAP_DATA	19588000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	767758
+SHUFFLE	COMPRESS_BYTE_COUNT	279836
+SHUFFLE	COPY_MAP_DATA	16545000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	766002
+SHUFFLE	COMPRESS_BYTE_COUNT	276935
+SHUFFLE	COPY_MAP_DATA	14564000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	965880
+SHUFFLE	COMPRESS_BYTE_COUNT	335314
+SHUFFLE	COPY_MAP_DATA	240141000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1115000
+SHUFFLE	COMPRESS_BYTE_COUNT	378424
+SHUFFLE	COPY_MAP_DATA	290615000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	732879
+SHUFFLE	COMPRESS_BYTE_COUNT	266504
+SHUFFLE	COPY_MAP_DATA	15634000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1114417
+SHUFFLE	COMPRESS_BYTE_COUNT	378018
+SHUFFLE	COPY_MAP_DATA	19868000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	750342
+SHUFFLE	COMPRESS_BYTE_COUNT	269774
+SHUFFLE	COPY_MAP_DATA	70261000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1113628
+SHUFFLE	COMPRESS_BYTE_COUNT	379918
+SHUFFLE	COPY_MAP_DATA	61890000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	960217
+SHUFFLE	COMPRESS_BYTE_COUNT	333917
+SHUFFLE	COPY_MAP_DATA	28853000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	219868
+SHUFFLE	COMPRESS_BYTE_COUNT	96547
+SHUFFLE	COPY_MAP_DATA	7941000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1152138
+SHUFFLE	COMPRESS_BYTE_COUNT	392935
+SHUFFLE	COPY_MAP_DATA	20558000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1114495
+SHUFFLE	COMPRESS_BYTE_COUNT	378244
+SHUFFLE	COPY_MAP_DATA	678582000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	719779
+SHUFFLE	COMPRESS_BYTE_COUNT	262698
+SHUFFLE	COPY_MAP_DATA	14931000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	753392
+SHUFFLE	COMPRESS_BYTE_COUNT	275008
+SHUFFLE	COPY_MAP_DATA	61322000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	308810
+SHUFFLE	COMPRESS_BYTE_COUNT	126558
+SHUFFLE	COPY_MAP_DATA	107615000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	242794
+SHUFFLE	COMPRESS_BYTE_COUNT	105199
+SHUFFLE	COPY_MAP_DATA	8149000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	354343
+SHUFFLE	COMPRESS_BYTE_COUNT	141624
+SHUFFLE	COPY_MAP_DATA	15213000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	407076
+SHUFFLE	COMPRESS_BYTE_COUNT	160704
+SHUFFLE	COPY_MAP_DATA	10008000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	206028
+SHUFFLE	COMPRESS_BYTE_COUNT	90134
+SHUFFLE	COPY_MAP_DATA	82522000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	750230
+SHUFFLE	COMPRESS_BYTE_COUNT	273610
+SHUFFLE	COPY_MAP_DATA	3312738000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	184600
+SHUFFLE	COMPRESS_BYTE_COUNT	80431
+SHUFFLE	COPY_MAP_DATA	69090000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	468635
+SHUFFLE	COMPRESS_BYTE_COUNT	181568
+SHUFFLE	COPY_MAP_DATA	56608000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	730145
+SHUFFLE	COMPRESS_BYTE_COUNT	266474
+SHUFFLE	COPY_MAP_DATA	16296000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	218340
+SHUFFLE	COMPRESS_BYTE_COUNT	93516
+SHUFFLE	COPY_MAP_DATA	7328000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	167939
+SHUFFLE	COMPRESS_BYTE_COUNT	74058
+SHUFFLE	COPY_MAP_DATA	6468000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	141024
+SHUFFLE	COMPRESS_BYTE_COUNT	62309
+SHUFFLE	COPY_MAP_DATA	24290000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	639737
+SHUFFLE	COMPRESS_BYTE_COUNT	236499
+SHUFFLE	COPY_MAP_DATA	278807000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	741654
+SHUFFLE	COMPRESS_BYTE_COUNT	270743
+SHUFFLE	COPY_MAP_DATA	76215000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	713759
+SHUFFLE	COMPRESS_BYTE_COUNT	260766
+SHUFFLE	COPY_MAP_DATA	13936000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	712811
+SHUFFLE	COMPRESS_BYTE_COUNT	260120
+SHUFFLE	COPY_MAP_DATA	15564000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	662021
+SHUFFLE	COMPRESS_BYTE_COUNT	243158
+SHUFFLE	COPY_MAP_DATA	14874000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	512599
+SHUFFLE	COMPRESS_BYTE_COUNT	197655
+SHUFFLE	COPY_MAP_DATA	11808000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	656526
+SHUFFLE	COMPRESS_BYTE_COUNT	239711
+SHUFFLE	COPY_MAP_DATA	14147000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	444018
+SHUFFLE	COMPRESS_BYTE_COUNT	171654
+SHUFFLE	COPY_MAP_DATA	353122000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	650714
+SHUFFLE	COMPRESS_BYTE_COUNT	241285
+SHUFFLE	COPY_MAP_DATA	54029000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	635196
+SHUFFLE	COMPRESS_BYTE_COUNT	238035
+SHUFFLE	COPY_MAP_DATA	12974000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	487496
+SHUFFLE	COMPRESS_BYTE_COUNT	189037
+SHUFFLE	COPY_MAP_DATA	10750000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	705912
+SHUFFLE	COMPRESS_BYTE_COUNT	257150
+SHUFFLE	COPY_MAP_DATA	24048000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	403783
+SHUFFLE	COMPRESS_BYTE_COUNT	158509
+SHUFFLE	COPY_MAP_DATA	25591000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	699287
+SHUFFLE	COMPRESS_BYTE_COUNT	255573
+SHUFFLE	COPY_MAP_DATA	130775000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	728382
+SHUFFLE	COMPRESS_BYTE_COUNT	265337
+SHUFFLE	COPY_MAP_DATA	23326000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	571440
+SHUFFLE	COMPRESS_BYTE_COUNT	220263
+SHUFFLE	COPY_MAP_DATA	12764000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	693479
+SHUFFLE	COMPRESS_BYTE_COUNT	256328
+SHUFFLE	COPY_MAP_DATA	686969000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	315221
+SHUFFLE	COMPRESS_BYTE_COUNT	111898
+SHUFFLE	COPY_MAP_DATA	7711000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	506317
+SHUFFLE	COMPRESS_BYTE_COUNT	195427
+SHUFFLE	COPY_MAP_DATA	11690000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	664397
+SHUFFLE	COMPRESS_BYTE_COUNT	245880
+SHUFFLE	COPY_MAP_DATA	12262000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	526366
+SHUFFLE	COMPRESS_BYTE_COUNT	203664
+SHUFFLE	COPY_MAP_DATA	438820000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	745009
+SHUFFLE	COMPRESS_BYTE_COUNT	269534
+SHUFFLE	COPY_MAP_DATA	214514000
+SHUFFLE	UNCOMPRESS	0
+SORT	MERGE_MAP_DATA	34807193000
+SORT	READ_WRITE	34722143000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	89759224
+REDUCE	SETUP	284000
+REDUCE	SETUP_MEM	89759224
+REDUCE	CLEANUP	28000
+REDUCE	CLEANUP_MEM	100146808
+REDUCE	TOTAL_RUN	15770409000
+REDUCE	READ	1051319000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	9314936000
+REDUCE	WRITE	2653520000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	11672900
+REDUCE	VALUE_BYTE_COUNT	1195833
+REDUCE	REDUCE_MEM	100148856
+REDUCE	WRITE	9518000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	546034690000
@@ -0,0 +1,410 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1116263
+SHUFFLE	COMPRESS_BYTE_COUNT	379907
+SHUFFLE	COPY_MAP_DATA	1206157000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1059216
+SHUFFLE	COMPRESS_BYTE_COUNT	362698
+SHUFFLE	COPY_MAP_DATA	34431000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1111863
+SHUFFLE	COMPRESS_BYTE_COUNT	374654
+SHUFFLE	COPY_MAP_DATA	82398000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	787005
+SHUFFLE	COMPRESS_BYTE_COUNT	285207
+SHUFFLE	COPY_MAP_DATA	17886000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1115082
+SHUFFLE	COMPRESS_BYTE_COUNT	378940
+SHUFFLE	COPY_MAP_DATA	63896000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	991726
+SHUFFLE	COMPRESS_BYTE_COUNT	331688
+SHUFFLE	COPY_MAP_DATA	78855000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1006869
+SHUFFLE	COMPRESS_BYTE_COUNT	345661
+SHUFFLE	COPY_MAP_DATA	28634000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1114668
+SHUFFLE	COMPRESS_BYTE_COUNT	377028
+SHUFFLE	COPY_MAP_DATA	26662000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1084312
+SHUFFLE	COMPRESS_BYTE_COUNT	366721
+SHUFFLE	COPY_MAP_DATA	34460000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1134902
+SHUFFLE	COMPRESS_BYTE_COUNT	384631
+SHUFFLE	COPY_MAP_DATA	97766000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1117906
+SHUFFLE	COMPRESS_BYTE_COUNT	379034
+SHUFFLE	COPY_MAP_DATA	124575000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1137596
+SHUFFLE	COMPRESS_BYTE_COUNT	385196
+SHUFFLE	COPY_MAP_DATA	73387000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	795399
+SHUFFLE	COMPRESS_BYTE_COUNT	289822
+SHUFFLE	COPY_MAP_DATA	16859000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1087019
+SHUFFLE	COMPRESS_BYTE_COUNT	367014
+SHUFFLE	COPY_MAP_DATA	21540000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1167583
+SHUFFLE	COMPRESS_BYTE_COUNT	389097
+SHUFFLE	COPY_MAP_DATA	55362000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1087219
+SHUFFLE	COMPRESS_BYTE_COUNT	367148
+SHUFFLE	COPY_MAP_DATA	27998000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1112028
+SHUFFLE	COMPRESS_BYTE_COUNT	376679
+SHUFFLE	COPY_MAP_DATA	37238000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1128460
+SHUFFLE	COMPRESS_BYTE_COUNT	382581
+SHUFFLE	COPY_MAP_DATA	21522000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	944360
+SHUFFLE	COMPRESS_BYTE_COUNT	315548
+SHUFFLE	COPY_MAP_DATA	22034000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1099684
+SHUFFLE	COMPRESS_BYTE_COUNT	373423
+SHUFFLE	COPY_MAP_DATA	1617723000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1227926
+SHUFFLE	COMPRESS_BYTE_COUNT	410025
+SHUFFLE	COPY_MAP_DATA	140014000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1074516
+SHUFFLE	COMPRESS_BYTE_COUNT	363728
+SHUFFLE	COPY_MAP_DATA	681367000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1102316
+SHUFFLE	COMPRESS_BYTE_COUNT	374131
+SHUFFLE	COPY_MAP_DATA	171187000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1096465
+SHUFFLE	COMPRESS_BYTE_COUNT	370213
+SHUFFLE	COPY_MAP_DATA	28982000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1006134
+SHUFFLE	COMPRESS_BYTE_COUNT	339980
+SHUFFLE	COPY_MAP_DATA	28158000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1062203
+SHUFFLE	COMPRESS_BYTE_COUNT	359174
+SHUFFLE	COPY_MAP_DATA	76439000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1077397
+SHUFFLE	COMPRESS_BYTE_COUNT	363341
+SHUFFLE	COPY_MAP_DATA	19906000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1001948
+SHUFFLE	COMPRESS_BYTE_COUNT	338643
+SHUFFLE	COPY_MAP_DATA	113631000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1088210
+SHUFFLE	COMPRESS_BYTE_COUNT	368532
+SHUFFLE	COPY_MAP_DATA	1152648000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1099801
+SHUFFLE	COMPRESS_BYTE_COUNT	374306
+SHUFFLE	COPY_MAP_DATA	32877000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	746976
+SHUFFLE	COMPRESS_BYTE_COUNT	268707
+SHUFFLE	COPY_MAP_DATA	205351000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	745826
+SHUFFLE	COMPRESS_BYTE_COUNT	270516
+SHUFFLE	COPY_MAP_DATA	101327000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	751551
+SHUFFLE	COMPRESS_BYTE_COUNT	272335
+SHUFFLE	COPY_MAP_DATA	1489367000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	775154
+SHUFFLE	COMPRESS_BYTE_COUNT	283466
+SHUFFLE	COPY_MAP_DATA	57948000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	839236
+SHUFFLE	COMPRESS_BYTE_COUNT	292721
+SHUFFLE	COPY_MAP_DATA	16950000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	788005
+SHUFFLE	COMPRESS_BYTE_COUNT	285389
+SHUFFLE	COPY_MAP_DATA	1148643000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	786361
+SHUFFLE	COMPRESS_BYTE_COUNT	285500
+SHUFFLE	COPY_MAP_DATA	85276000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	751468
+SHUFFLE	COMPRESS_BYTE_COUNT	268888
+SHUFFLE	COPY_MAP_DATA	1820998000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	840013
+SHUFFLE	COMPRESS_BYTE_COUNT	290084
+SHUFFLE	COPY_MAP_DATA	501693000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1013157
+SHUFFLE	COMPRESS_BYTE_COUNT	351591
+SHUFFLE	COPY_MAP_DATA	20536000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	776456
+SHUFFLE	COMPRESS_BYTE_COUNT	282017
+SHUFFLE	COPY_MAP_DATA	16827000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	741979
+SHUFFLE	COMPRESS_BYTE_COUNT	269475
+SHUFFLE	COPY_MAP_DATA	14001000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	767101
+SHUFFLE	COMPRESS_BYTE_COUNT	281219
+SHUFFLE	COPY_MAP_DATA	16374000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	702813
+SHUFFLE	COMPRESS_BYTE_COUNT	256199
+SHUFFLE	COPY_MAP_DATA	15873000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	738740
+SHUFFLE	COMPRESS_BYTE_COUNT	268869
+SHUFFLE	COPY_MAP_DATA	15367000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1026534
+SHUFFLE	COMPRESS_BYTE_COUNT	353345
+SHUFFLE	COPY_MAP_DATA	174842000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	747687
+SHUFFLE	COMPRESS_BYTE_COUNT	272966
+SHUFFLE	COPY_MAP_DATA	34547000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	844901
+SHUFFLE	COMPRESS_BYTE_COUNT	298335
+SHUFFLE	COPY_MAP_DATA	9473146000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	736215
+SHUFFLE	COMPRESS_BYTE_COUNT	267886
+SHUFFLE	COPY_MAP_DATA	16390000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	772102
+SHUFFLE	COMPRESS_BYTE_COUNT	279991
+SHUFFLE	COPY_MAP_DATA	16452000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	769652
+SHUFFLE	COMPRESS_BYTE_COUNT	277647
+SHUFFLE	COPY_MAP_DATA	53825000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	961599
+SHUFFLE	COMPRESS_BYTE_COUNT	333125
+SHUFFLE	COPY_MAP_DATA	31993000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1116819
+SHUFFLE	COMPRESS_BYTE_COUNT	378599
+SHUFFLE	COPY_MAP_DATA	20554000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1101334
+SHUFFLE	COMPRESS_BYTE_COUNT	375268
+SHUFFLE	COPY_MAP_DATA	36841000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	734168
+SHUFFLE	COMPRESS_BYTE_COUNT	267224
+SHUFFLE	COPY_MAP_DATA	16010000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1106370
+SHUFFLE	COMPRESS_BYTE_COUNT	374599
+SHUFFLE	COPY_MAP_DATA	20808000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	748172
+SHUFFLE	COMPRESS_BYTE_COUNT	268570
+SHUFFLE	COPY_MAP_DATA	228571000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	948273
+SHUFFLE	COMPRESS_BYTE_COUNT	329147
+SHUFFLE	COPY_MAP_DATA	168152000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1144944
+SHUFFLE	COMPRESS_BYTE_COUNT	392179
+SHUFFLE	COPY_MAP_DATA	117713000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	219806
+SHUFFLE	COMPRESS_BYTE_COUNT	96561
+SHUFFLE	COPY_MAP_DATA	1688804000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	716352
+SHUFFLE	COMPRESS_BYTE_COUNT	262144
+SHUFFLE	COPY_MAP_DATA	3128325000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1109690
+SHUFFLE	COMPRESS_BYTE_COUNT	376133
+SHUFFLE	COPY_MAP_DATA	1613149000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	746177
+SHUFFLE	COMPRESS_BYTE_COUNT	273139
+SHUFFLE	COPY_MAP_DATA	17059000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	309838
+SHUFFLE	COMPRESS_BYTE_COUNT	127433
+SHUFFLE	COPY_MAP_DATA	9191000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	239709
+SHUFFLE	COMPRESS_BYTE_COUNT	103813
+SHUFFLE	COPY_MAP_DATA	373184000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	351141
+SHUFFLE	COMPRESS_BYTE_COUNT	141053
+SHUFFLE	COPY_MAP_DATA	806292000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	205152
+SHUFFLE	COMPRESS_BYTE_COUNT	89348
+SHUFFLE	COPY_MAP_DATA	71036000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	400403
+SHUFFLE	COMPRESS_BYTE_COUNT	158632
+SHUFFLE	COPY_MAP_DATA	9237000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	749922
+SHUFFLE	COMPRESS_BYTE_COUNT	272974
+SHUFFLE	COPY_MAP_DATA	23735000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	181923
+SHUFFLE	COMPRESS_BYTE_COUNT	79344
+SHUFFLE	COPY_MAP_DATA	9697000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	463336
+SHUFFLE	COMPRESS_BYTE_COUNT	179714
+SHUFFLE	COPY_MAP_DATA	2382036000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	168291
+SHUFFLE	COMPRESS_BYTE_COUNT	73931
+SHUFFLE	COPY_MAP_DATA	6473000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	728624
+SHUFFLE	COMPRESS_BYTE_COUNT	266608
+SHUFFLE	COPY_MAP_DATA	64624000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	215965
+SHUFFLE	COMPRESS_BYTE_COUNT	92446
+SHUFFLE	COPY_MAP_DATA	6819000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	137088
+SHUFFLE	COMPRESS_BYTE_COUNT	60383
+SHUFFLE	COPY_MAP_DATA	39192000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	634626
+SHUFFLE	COMPRESS_BYTE_COUNT	234993
+SHUFFLE	COPY_MAP_DATA	12890000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	736334
+SHUFFLE	COMPRESS_BYTE_COUNT	268447
+SHUFFLE	COPY_MAP_DATA	173243000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	709761
+SHUFFLE	COMPRESS_BYTE_COUNT	258938
+SHUFFLE	COPY_MAP_DATA	14622000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	715550
+SHUFFLE	COMPRESS_BYTE_COUNT	261703
+SHUFFLE	COPY_MAP_DATA	13787000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	655637
+SHUFFLE	COMPRESS_BYTE_COUNT	240696
+SHUFFLE	COPY_MAP_DATA	14107000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	440586
+SHUFFLE	COMPRESS_BYTE_COUNT	170268
+SHUFFLE	COPY_MAP_DATA	11014000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	651581
+SHUFFLE	COMPRESS_BYTE_COUNT	237978
+SHUFFLE	COPY_MAP_DATA	14037000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	515686
+SHUFFLE	COMPRESS_BYTE_COUNT	198583
+SHUFFLE	COPY_MAP_DATA	11686000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	485943
+SHUFFLE	COMPRESS_BYTE_COUNT	188194
+SHUFFLE	COPY_MAP_DATA	372735000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	647514
+SHUFFLE	COMPRESS_BYTE_COUNT	239573
+SHUFFLE	COPY_MAP_DATA	38209000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	704666
+SHUFFLE	COMPRESS_BYTE_COUNT	258110
+SHUFFLE	COPY_MAP_DATA	2464470000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	631593
+SHUFFLE	COMPRESS_BYTE_COUNT	236400
+SHUFFLE	COPY_MAP_DATA	19837000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	725052
+SHUFFLE	COMPRESS_BYTE_COUNT	264151
+SHUFFLE	COPY_MAP_DATA	712040000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	700549
+SHUFFLE	COMPRESS_BYTE_COUNT	255946
+SHUFFLE	COPY_MAP_DATA	126398000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	403196
+SHUFFLE	COMPRESS_BYTE_COUNT	157578
+SHUFFLE	COPY_MAP_DATA	189416000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	572599
+SHUFFLE	COMPRESS_BYTE_COUNT	220071
+SHUFFLE	COPY_MAP_DATA	30327000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	685489
+SHUFFLE	COMPRESS_BYTE_COUNT	251896
+SHUFFLE	COPY_MAP_DATA	14643000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	315110
+SHUFFLE	COMPRESS_BYTE_COUNT	112030
+SHUFFLE	COPY_MAP_DATA	21697000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	500176
+SHUFFLE	COMPRESS_BYTE_COUNT	193022
+SHUFFLE	COPY_MAP_DATA	11667000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	657064
+SHUFFLE	COMPRESS_BYTE_COUNT	242679
+SHUFFLE	COPY_MAP_DATA	12171000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	528832
+SHUFFLE	COMPRESS_BYTE_COUNT	204596
+SHUFFLE	COPY_MAP_DATA	11667000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	737440
+SHUFFLE	COMPRESS_BYTE_COUNT	266349
+SHUFFLE	COPY_MAP_DATA	32655000
+SHUFFLE	UNCOMPRESS	0
+SORT	MERGE_MAP_DATA	33904721000
+SORT	READ_WRITE	33829294000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	110848184
+REDUCE	SETUP	279000
+REDUCE	SETUP_MEM	110848184
+REDUCE	CLEANUP	27000
+REDUCE	CLEANUP_MEM	92319040
+REDUCE	TOTAL_RUN	16552936000
+REDUCE	READ	879242000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	9877209000
+REDUCE	WRITE	2605561000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	11685208
+REDUCE	VALUE_BYTE_COUNT	1194726
+REDUCE	REDUCE_MEM	92319040
+REDUCE	WRITE	40123000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	556490373000
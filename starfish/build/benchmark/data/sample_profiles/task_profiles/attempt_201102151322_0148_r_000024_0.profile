@@ -0,0 +1,410 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	998100
+SHUFFLE	COMPRESS_BYTE_COUNT	332740
+SHUFFLE	COPY_MAP_DATA	47327000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1072612
+SHUFFLE	COMPRESS_BYTE_COUNT	366763
+SHUFFLE	COPY_MAP_DATA	106144000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1119517
+SHUFFLE	COMPRESS_BYTE_COUNT	378791
+SHUFFLE	COPY_MAP_DATA	23578000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1125180
+SHUFFLE	COMPRESS_BYTE_COUNT	380839
+SHUFFLE	COPY_MAP_DATA	163434000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1121277
+SHUFFLE	COMPRESS_BYTE_COUNT	378383
+SHUFFLE	COPY_MAP_DATA	22593000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1023254
+SHUFFLE	COMPRESS_BYTE_COUNT	351602
+SHUFFLE	COPY_MAP_DATA	20696000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	798679
+SHUFFLE	COMPRESS_BYTE_COUNT	288505
+SHUFFLE	COPY_MAP_DATA	17930000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1100501
+SHUFFLE	COMPRESS_BYTE_COUNT	371962
+SHUFFLE	COPY_MAP_DATA	40174000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1146528
+SHUFFLE	COMPRESS_BYTE_COUNT	388393
+SHUFFLE	COPY_MAP_DATA	106838000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1123882
+SHUFFLE	COMPRESS_BYTE_COUNT	380242
+SHUFFLE	COPY_MAP_DATA	220159000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	789673
+SHUFFLE	COMPRESS_BYTE_COUNT	286691
+SHUFFLE	COPY_MAP_DATA	21202000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1136767
+SHUFFLE	COMPRESS_BYTE_COUNT	384584
+SHUFFLE	COPY_MAP_DATA	1038250000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1088221
+SHUFFLE	COMPRESS_BYTE_COUNT	367757
+SHUFFLE	COPY_MAP_DATA	72786000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1122938
+SHUFFLE	COMPRESS_BYTE_COUNT	377497
+SHUFFLE	COPY_MAP_DATA	61839000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1179026
+SHUFFLE	COMPRESS_BYTE_COUNT	390033
+SHUFFLE	COPY_MAP_DATA	26098601
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1091787
+SHUFFLE	COMPRESS_BYTE_COUNT	367972
+SHUFFLE	COPY_MAP_DATA	492881000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1125230
+SHUFFLE	COMPRESS_BYTE_COUNT	378943
+SHUFFLE	COPY_MAP_DATA	105798000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	952929
+SHUFFLE	COMPRESS_BYTE_COUNT	319140
+SHUFFLE	COPY_MAP_DATA	282975000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1145186
+SHUFFLE	COMPRESS_BYTE_COUNT	386642
+SHUFFLE	COPY_MAP_DATA	241309000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1104264
+SHUFFLE	COMPRESS_BYTE_COUNT	373314
+SHUFFLE	COPY_MAP_DATA	42093000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1235473
+SHUFFLE	COMPRESS_BYTE_COUNT	412378
+SHUFFLE	COPY_MAP_DATA	135296000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1077679
+SHUFFLE	COMPRESS_BYTE_COUNT	363312
+SHUFFLE	COPY_MAP_DATA	82995000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1116726
+SHUFFLE	COMPRESS_BYTE_COUNT	377956
+SHUFFLE	COPY_MAP_DATA	67799000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1064058
+SHUFFLE	COMPRESS_BYTE_COUNT	358293
+SHUFFLE	COPY_MAP_DATA	22013000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1015610
+SHUFFLE	COMPRESS_BYTE_COUNT	341935
+SHUFFLE	COPY_MAP_DATA	20106000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1109010
+SHUFFLE	COMPRESS_BYTE_COUNT	373877
+SHUFFLE	COPY_MAP_DATA	39753000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1090766
+SHUFFLE	COMPRESS_BYTE_COUNT	367087
+SHUFFLE	COPY_MAP_DATA	25062000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1005189
+SHUFFLE	COMPRESS_BYTE_COUNT	338254
+SHUFFLE	COPY_MAP_DATA	20451000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1097945
+SHUFFLE	COMPRESS_BYTE_COUNT	370918
+SHUFFLE	COPY_MAP_DATA	20508000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1110729
+SHUFFLE	COMPRESS_BYTE_COUNT	376407
+SHUFFLE	COPY_MAP_DATA	19390000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	756018
+SHUFFLE	COMPRESS_BYTE_COUNT	270938
+SHUFFLE	COPY_MAP_DATA	16636000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	754836
+SHUFFLE	COMPRESS_BYTE_COUNT	272633
+SHUFFLE	COPY_MAP_DATA	37981000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	754952
+SHUFFLE	COMPRESS_BYTE_COUNT	273303
+SHUFFLE	COPY_MAP_DATA	121293000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	785179
+SHUFFLE	COMPRESS_BYTE_COUNT	285306
+SHUFFLE	COPY_MAP_DATA	310201000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	848226
+SHUFFLE	COMPRESS_BYTE_COUNT	294950
+SHUFFLE	COPY_MAP_DATA	87075000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	789757
+SHUFFLE	COMPRESS_BYTE_COUNT	284881
+SHUFFLE	COPY_MAP_DATA	36090000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	793867
+SHUFFLE	COMPRESS_BYTE_COUNT	287252
+SHUFFLE	COPY_MAP_DATA	17454000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	757780
+SHUFFLE	COMPRESS_BYTE_COUNT	271160
+SHUFFLE	COPY_MAP_DATA	3112496000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1025114
+SHUFFLE	COMPRESS_BYTE_COUNT	353463
+SHUFFLE	COPY_MAP_DATA	20059000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	854616
+SHUFFLE	COMPRESS_BYTE_COUNT	293994
+SHUFFLE	COPY_MAP_DATA	488944000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	785504
+SHUFFLE	COMPRESS_BYTE_COUNT	285349
+SHUFFLE	COPY_MAP_DATA	77421000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	749466
+SHUFFLE	COMPRESS_BYTE_COUNT	271991
+SHUFFLE	COPY_MAP_DATA	16146000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1044894
+SHUFFLE	COMPRESS_BYTE_COUNT	357394
+SHUFFLE	COPY_MAP_DATA	27614000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	706981
+SHUFFLE	COMPRESS_BYTE_COUNT	256673
+SHUFFLE	COPY_MAP_DATA	15177000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	776770
+SHUFFLE	COMPRESS_BYTE_COUNT	285170
+SHUFFLE	COPY_MAP_DATA	94005000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	747413
+SHUFFLE	COMPRESS_BYTE_COUNT	271845
+SHUFFLE	COPY_MAP_DATA	14978000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	853033
+SHUFFLE	COMPRESS_BYTE_COUNT	301317
+SHUFFLE	COPY_MAP_DATA	11326845000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	750332
+SHUFFLE	COMPRESS_BYTE_COUNT	272903
+SHUFFLE	COPY_MAP_DATA	31048000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	742785
+SHUFFLE	COMPRESS_BYTE_COUNT	270317
+SHUFFLE	COPY_MAP_DATA	26891000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	776177
+SHUFFLE	COMPRESS_BYTE_COUNT	281774
+SHUFFLE	COPY_MAP_DATA	62861000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	772706
+SHUFFLE	COMPRESS_BYTE_COUNT	279075
+SHUFFLE	COPY_MAP_DATA	16802000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	972096
+SHUFFLE	COMPRESS_BYTE_COUNT	336623
+SHUFFLE	COPY_MAP_DATA	19367000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1116879
+SHUFFLE	COMPRESS_BYTE_COUNT	378338
+SHUFFLE	COPY_MAP_DATA	294831000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	741100
+SHUFFLE	COMPRESS_BYTE_COUNT	269280
+SHUFFLE	COPY_MAP_DATA	109157000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1118625
+SHUFFLE	COMPRESS_BYTE_COUNT	378160
+SHUFFLE	COPY_MAP_DATA	1608787000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1111858
+SHUFFLE	COMPRESS_BYTE_COUNT	378024
+SHUFFLE	COPY_MAP_DATA	41569000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	756099
+SHUFFLE	COMPRESS_BYTE_COUNT	270706
+SHUFFLE	COPY_MAP_DATA	244860000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	960555
+SHUFFLE	COMPRESS_BYTE_COUNT	333104
+SHUFFLE	COPY_MAP_DATA	251944000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1152858
+SHUFFLE	COMPRESS_BYTE_COUNT	393396
+SHUFFLE	COPY_MAP_DATA	165415000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	224517
+SHUFFLE	COMPRESS_BYTE_COUNT	97816
+SHUFFLE	COPY_MAP_DATA	173587000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	717273
+SHUFFLE	COMPRESS_BYTE_COUNT	260680
+SHUFFLE	COPY_MAP_DATA	2008703000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1123134
+SHUFFLE	COMPRESS_BYTE_COUNT	379078
+SHUFFLE	COPY_MAP_DATA	21650000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	753492
+SHUFFLE	COMPRESS_BYTE_COUNT	273470
+SHUFFLE	COPY_MAP_DATA	35902000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	308122
+SHUFFLE	COMPRESS_BYTE_COUNT	126086
+SHUFFLE	COPY_MAP_DATA	47895000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	242233
+SHUFFLE	COMPRESS_BYTE_COUNT	104570
+SHUFFLE	COPY_MAP_DATA	134614754
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	355902
+SHUFFLE	COMPRESS_BYTE_COUNT	142228
+SHUFFLE	COPY_MAP_DATA	10310000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	207319
+SHUFFLE	COMPRESS_BYTE_COUNT	90162
+SHUFFLE	COPY_MAP_DATA	367039000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	409834
+SHUFFLE	COMPRESS_BYTE_COUNT	161396
+SHUFFLE	COPY_MAP_DATA	91246000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	755426
+SHUFFLE	COMPRESS_BYTE_COUNT	274653
+SHUFFLE	COPY_MAP_DATA	106253000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	185414
+SHUFFLE	COMPRESS_BYTE_COUNT	80733
+SHUFFLE	COPY_MAP_DATA	130016000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	219653
+SHUFFLE	COMPRESS_BYTE_COUNT	93459
+SHUFFLE	COPY_MAP_DATA	413731000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	472067
+SHUFFLE	COMPRESS_BYTE_COUNT	182291
+SHUFFLE	COPY_MAP_DATA	596747000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	734709
+SHUFFLE	COMPRESS_BYTE_COUNT	267008
+SHUFFLE	COPY_MAP_DATA	15261000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	167793
+SHUFFLE	COMPRESS_BYTE_COUNT	73490
+SHUFFLE	COPY_MAP_DATA	66340000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	644960
+SHUFFLE	COMPRESS_BYTE_COUNT	238032
+SHUFFLE	COPY_MAP_DATA	14326000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	138793
+SHUFFLE	COMPRESS_BYTE_COUNT	60963
+SHUFFLE	COPY_MAP_DATA	4796000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	742428
+SHUFFLE	COMPRESS_BYTE_COUNT	269592
+SHUFFLE	COPY_MAP_DATA	16895000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	716425
+SHUFFLE	COMPRESS_BYTE_COUNT	260416
+SHUFFLE	COPY_MAP_DATA	15536000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	721718
+SHUFFLE	COMPRESS_BYTE_COUNT	263581
+SHUFFLE	COPY_MAP_DATA	14847000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	664019
+SHUFFLE	COMPRESS_BYTE_COUNT	241364
+SHUFFLE	COPY_MAP_DATA	15703000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	662406
+SHUFFLE	COMPRESS_BYTE_COUNT	243098
+SHUFFLE	COPY_MAP_DATA	23749000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	445483
+SHUFFLE	COMPRESS_BYTE_COUNT	172183
+SHUFFLE	COPY_MAP_DATA	10359000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	516135
+SHUFFLE	COMPRESS_BYTE_COUNT	198167
+SHUFFLE	COPY_MAP_DATA	12641000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	712880
+SHUFFLE	COMPRESS_BYTE_COUNT	260715
+SHUFFLE	COPY_MAP_DATA	17102000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	487550
+SHUFFLE	COMPRESS_BYTE_COUNT	188206
+SHUFFLE	COPY_MAP_DATA	11211000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	652143
+SHUFFLE	COMPRESS_BYTE_COUNT	241115
+SHUFFLE	COPY_MAP_DATA	13949000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	639315
+SHUFFLE	COMPRESS_BYTE_COUNT	239069
+SHUFFLE	COPY_MAP_DATA	13181000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	408679
+SHUFFLE	COMPRESS_BYTE_COUNT	159650
+SHUFFLE	COPY_MAP_DATA	10640000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	707487
+SHUFFLE	COMPRESS_BYTE_COUNT	258141
+SHUFFLE	COPY_MAP_DATA	13930000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	731235
+SHUFFLE	COMPRESS_BYTE_COUNT	265866
+SHUFFLE	COPY_MAP_DATA	15023000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	578789
+SHUFFLE	COMPRESS_BYTE_COUNT	222570
+SHUFFLE	COPY_MAP_DATA	13862000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	504650
+SHUFFLE	COMPRESS_BYTE_COUNT	194532
+SHUFFLE	COPY_MAP_DATA	13370000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	692761
+SHUFFLE	COMPRESS_BYTE_COUNT	253516
+SHUFFLE	COPY_MAP_DATA	15896000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	667488
+SHUFFLE	COMPRESS_BYTE_COUNT	246127
+SHUFFLE	COPY_MAP_DATA	14732000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	320036
+SHUFFLE	COMPRESS_BYTE_COUNT	113685
+SHUFFLE	COPY_MAP_DATA	8862000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	529817
+SHUFFLE	COMPRESS_BYTE_COUNT	204949
+SHUFFLE	COPY_MAP_DATA	31107000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	735376
+SHUFFLE	COMPRESS_BYTE_COUNT	264776
+SHUFFLE	COPY_MAP_DATA	19290000
+SHUFFLE	UNCOMPRESS	0
+SORT	MERGE_MAP_DATA	36418245000
+SORT	READ_WRITE	36291280000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	86861160
+REDUCE	SETUP	377000
+REDUCE	SETUP_MEM	86861160
+REDUCE	CLEANUP	29000
+REDUCE	CLEANUP_MEM	93532456
+REDUCE	TOTAL_RUN	19002497833
+REDUCE	READ	656772000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	10663361833
+REDUCE	WRITE	3011538000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	11658077
+REDUCE	VALUE_BYTE_COUNT	1194900
+REDUCE	REDUCE_MEM	93534504
+REDUCE	WRITE	50495000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	563165157015
@@ -0,0 +1,410 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1018219
+SHUFFLE	COMPRESS_BYTE_COUNT	349907
+SHUFFLE	COPY_MAP_DATA	38224000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1121518
+SHUFFLE	COMPRESS_BYTE_COUNT	380968
+SHUFFLE	COPY_MAP_DATA	24380000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	796650
+SHUFFLE	COMPRESS_BYTE_COUNT	287871
+SHUFFLE	COPY_MAP_DATA	19352000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1119072
+SHUFFLE	COMPRESS_BYTE_COUNT	377122
+SHUFFLE	COPY_MAP_DATA	34620000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1118823
+SHUFFLE	COMPRESS_BYTE_COUNT	378706
+SHUFFLE	COPY_MAP_DATA	187333000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	996106
+SHUFFLE	COMPRESS_BYTE_COUNT	331828
+SHUFFLE	COPY_MAP_DATA	61946000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1065157
+SHUFFLE	COMPRESS_BYTE_COUNT	364314
+SHUFFLE	COPY_MAP_DATA	242908000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	793636
+SHUFFLE	COMPRESS_BYTE_COUNT	288381
+SHUFFLE	COPY_MAP_DATA	25426000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1151375
+SHUFFLE	COMPRESS_BYTE_COUNT	389691
+SHUFFLE	COPY_MAP_DATA	47125000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1089833
+SHUFFLE	COMPRESS_BYTE_COUNT	368584
+SHUFFLE	COPY_MAP_DATA	55378000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1111443
+SHUFFLE	COMPRESS_BYTE_COUNT	376194
+SHUFFLE	COPY_MAP_DATA	20655000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1137221
+SHUFFLE	COMPRESS_BYTE_COUNT	384090
+SHUFFLE	COPY_MAP_DATA	83095000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1084062
+SHUFFLE	COMPRESS_BYTE_COUNT	366713
+SHUFFLE	COPY_MAP_DATA	56887000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1113692
+SHUFFLE	COMPRESS_BYTE_COUNT	373749
+SHUFFLE	COPY_MAP_DATA	34592000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1085909
+SHUFFLE	COMPRESS_BYTE_COUNT	366757
+SHUFFLE	COPY_MAP_DATA	25349000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1172440
+SHUFFLE	COMPRESS_BYTE_COUNT	388623
+SHUFFLE	COPY_MAP_DATA	346724000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1121011
+SHUFFLE	COMPRESS_BYTE_COUNT	378790
+SHUFFLE	COPY_MAP_DATA	68383000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	943852
+SHUFFLE	COMPRESS_BYTE_COUNT	315279
+SHUFFLE	COPY_MAP_DATA	18840000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1136147
+SHUFFLE	COMPRESS_BYTE_COUNT	384964
+SHUFFLE	COPY_MAP_DATA	72507000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1091450
+SHUFFLE	COMPRESS_BYTE_COUNT	369442
+SHUFFLE	COPY_MAP_DATA	261442000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1235445
+SHUFFLE	COMPRESS_BYTE_COUNT	412357
+SHUFFLE	COPY_MAP_DATA	23484000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1077703
+SHUFFLE	COMPRESS_BYTE_COUNT	363851
+SHUFFLE	COPY_MAP_DATA	22369000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1107456
+SHUFFLE	COMPRESS_BYTE_COUNT	376608
+SHUFFLE	COPY_MAP_DATA	27772000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1108968
+SHUFFLE	COMPRESS_BYTE_COUNT	374598
+SHUFFLE	COPY_MAP_DATA	198289000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1005556
+SHUFFLE	COMPRESS_BYTE_COUNT	339086
+SHUFFLE	COPY_MAP_DATA	83672000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1062158
+SHUFFLE	COMPRESS_BYTE_COUNT	357371
+SHUFFLE	COPY_MAP_DATA	42561000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1003130
+SHUFFLE	COMPRESS_BYTE_COUNT	338131
+SHUFFLE	COPY_MAP_DATA	30462000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1086780
+SHUFFLE	COMPRESS_BYTE_COUNT	366258
+SHUFFLE	COPY_MAP_DATA	359747000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1091836
+SHUFFLE	COMPRESS_BYTE_COUNT	368088
+SHUFFLE	COPY_MAP_DATA	372790000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1110505
+SHUFFLE	COMPRESS_BYTE_COUNT	376241
+SHUFFLE	COPY_MAP_DATA	20312000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	744534
+SHUFFLE	COMPRESS_BYTE_COUNT	267473
+SHUFFLE	COPY_MAP_DATA	187422000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	753070
+SHUFFLE	COMPRESS_BYTE_COUNT	273319
+SHUFFLE	COPY_MAP_DATA	207349000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	754545
+SHUFFLE	COMPRESS_BYTE_COUNT	272954
+SHUFFLE	COPY_MAP_DATA	18320000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	779596
+SHUFFLE	COMPRESS_BYTE_COUNT	283130
+SHUFFLE	COPY_MAP_DATA	16785000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	788866
+SHUFFLE	COMPRESS_BYTE_COUNT	285074
+SHUFFLE	COPY_MAP_DATA	158213000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	842609
+SHUFFLE	COMPRESS_BYTE_COUNT	292962
+SHUFFLE	COPY_MAP_DATA	16745000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	794853
+SHUFFLE	COMPRESS_BYTE_COUNT	288107
+SHUFFLE	COPY_MAP_DATA	25154000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	756734
+SHUFFLE	COMPRESS_BYTE_COUNT	271194
+SHUFFLE	COPY_MAP_DATA	115427000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	843107
+SHUFFLE	COMPRESS_BYTE_COUNT	290764
+SHUFFLE	COPY_MAP_DATA	26632000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1015342
+SHUFFLE	COMPRESS_BYTE_COUNT	350540
+SHUFFLE	COPY_MAP_DATA	149936000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	777294
+SHUFFLE	COMPRESS_BYTE_COUNT	281528
+SHUFFLE	COPY_MAP_DATA	17398000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	746767
+SHUFFLE	COMPRESS_BYTE_COUNT	270017
+SHUFFLE	COPY_MAP_DATA	15164000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1030694
+SHUFFLE	COMPRESS_BYTE_COUNT	353108
+SHUFFLE	COPY_MAP_DATA	20667000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	708062
+SHUFFLE	COMPRESS_BYTE_COUNT	256777
+SHUFFLE	COPY_MAP_DATA	248946000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	771875
+SHUFFLE	COMPRESS_BYTE_COUNT	282201
+SHUFFLE	COPY_MAP_DATA	60823000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	740405
+SHUFFLE	COMPRESS_BYTE_COUNT	269155
+SHUFFLE	COPY_MAP_DATA	38364000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	853170
+SHUFFLE	COMPRESS_BYTE_COUNT	301120
+SHUFFLE	COPY_MAP_DATA	12126332000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	743495
+SHUFFLE	COMPRESS_BYTE_COUNT	270662
+SHUFFLE	COPY_MAP_DATA	34915000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	741244
+SHUFFLE	COMPRESS_BYTE_COUNT	271742
+SHUFFLE	COPY_MAP_DATA	76133000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	771239
+SHUFFLE	COMPRESS_BYTE_COUNT	279395
+SHUFFLE	COPY_MAP_DATA	35041000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	773313
+SHUFFLE	COMPRESS_BYTE_COUNT	278866
+SHUFFLE	COPY_MAP_DATA	15476000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	970491
+SHUFFLE	COMPRESS_BYTE_COUNT	334843
+SHUFFLE	COPY_MAP_DATA	36277000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1113090
+SHUFFLE	COMPRESS_BYTE_COUNT	376707
+SHUFFLE	COPY_MAP_DATA	22462000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	737446
+SHUFFLE	COMPRESS_BYTE_COUNT	268222
+SHUFFLE	COPY_MAP_DATA	16368000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1112413
+SHUFFLE	COMPRESS_BYTE_COUNT	376915
+SHUFFLE	COPY_MAP_DATA	32244000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1100226
+SHUFFLE	COMPRESS_BYTE_COUNT	374203
+SHUFFLE	COPY_MAP_DATA	21546000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	756736
+SHUFFLE	COMPRESS_BYTE_COUNT	271614
+SHUFFLE	COPY_MAP_DATA	15572000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	963581
+SHUFFLE	COMPRESS_BYTE_COUNT	333838
+SHUFFLE	COPY_MAP_DATA	28456000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1146621
+SHUFFLE	COMPRESS_BYTE_COUNT	391541
+SHUFFLE	COPY_MAP_DATA	98981000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	218510
+SHUFFLE	COMPRESS_BYTE_COUNT	95539
+SHUFFLE	COPY_MAP_DATA	23334000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1119812
+SHUFFLE	COMPRESS_BYTE_COUNT	377762
+SHUFFLE	COPY_MAP_DATA	24714000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	715361
+SHUFFLE	COMPRESS_BYTE_COUNT	259905
+SHUFFLE	COPY_MAP_DATA	54105000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	752524
+SHUFFLE	COMPRESS_BYTE_COUNT	275166
+SHUFFLE	COPY_MAP_DATA	26509000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	307806
+SHUFFLE	COMPRESS_BYTE_COUNT	126176
+SHUFFLE	COPY_MAP_DATA	22401000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	241591
+SHUFFLE	COMPRESS_BYTE_COUNT	104459
+SHUFFLE	COPY_MAP_DATA	13478000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	353919
+SHUFFLE	COMPRESS_BYTE_COUNT	140752
+SHUFFLE	COPY_MAP_DATA	89983000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	404490
+SHUFFLE	COMPRESS_BYTE_COUNT	158913
+SHUFFLE	COPY_MAP_DATA	51304000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	202680
+SHUFFLE	COMPRESS_BYTE_COUNT	88334
+SHUFFLE	COPY_MAP_DATA	503634000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	756602
+SHUFFLE	COMPRESS_BYTE_COUNT	275015
+SHUFFLE	COPY_MAP_DATA	17167000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	184247
+SHUFFLE	COMPRESS_BYTE_COUNT	80303
+SHUFFLE	COPY_MAP_DATA	66782000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	470115
+SHUFFLE	COMPRESS_BYTE_COUNT	181584
+SHUFFLE	COPY_MAP_DATA	275334000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	733640
+SHUFFLE	COMPRESS_BYTE_COUNT	267394
+SHUFFLE	COPY_MAP_DATA	16365000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	642563
+SHUFFLE	COMPRESS_BYTE_COUNT	236465
+SHUFFLE	COPY_MAP_DATA	14098000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	169376
+SHUFFLE	COMPRESS_BYTE_COUNT	74226
+SHUFFLE	COPY_MAP_DATA	5276000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	217271
+SHUFFLE	COMPRESS_BYTE_COUNT	92709
+SHUFFLE	COPY_MAP_DATA	58705000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	139518
+SHUFFLE	COMPRESS_BYTE_COUNT	61317
+SHUFFLE	COPY_MAP_DATA	4095000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	742308
+SHUFFLE	COMPRESS_BYTE_COUNT	270420
+SHUFFLE	COPY_MAP_DATA	42918000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	718462
+SHUFFLE	COMPRESS_BYTE_COUNT	261900
+SHUFFLE	COPY_MAP_DATA	45319000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	654573
+SHUFFLE	COMPRESS_BYTE_COUNT	239474
+SHUFFLE	COPY_MAP_DATA	13707000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	718048
+SHUFFLE	COMPRESS_BYTE_COUNT	260755
+SHUFFLE	COPY_MAP_DATA	14318000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	663163
+SHUFFLE	COMPRESS_BYTE_COUNT	243116
+SHUFFLE	COPY_MAP_DATA	17991000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	515546
+SHUFFLE	COMPRESS_BYTE_COUNT	198148
+SHUFFLE	COPY_MAP_DATA	11401000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	444352
+SHUFFLE	COMPRESS_BYTE_COUNT	171144
+SHUFFLE	COPY_MAP_DATA	14101000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	651104
+SHUFFLE	COMPRESS_BYTE_COUNT	240231
+SHUFFLE	COPY_MAP_DATA	13558000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	710924
+SHUFFLE	COMPRESS_BYTE_COUNT	259711
+SHUFFLE	COPY_MAP_DATA	14581000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	638459
+SHUFFLE	COMPRESS_BYTE_COUNT	238331
+SHUFFLE	COPY_MAP_DATA	14987000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	705127
+SHUFFLE	COMPRESS_BYTE_COUNT	257415
+SHUFFLE	COPY_MAP_DATA	29209000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	406642
+SHUFFLE	COMPRESS_BYTE_COUNT	158891
+SHUFFLE	COPY_MAP_DATA	22866000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	482664
+SHUFFLE	COMPRESS_BYTE_COUNT	186420
+SHUFFLE	COPY_MAP_DATA	11110000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	732978
+SHUFFLE	COMPRESS_BYTE_COUNT	266939
+SHUFFLE	COPY_MAP_DATA	15971000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	576644
+SHUFFLE	COMPRESS_BYTE_COUNT	221463
+SHUFFLE	COPY_MAP_DATA	13779000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	506590
+SHUFFLE	COMPRESS_BYTE_COUNT	195287
+SHUFFLE	COPY_MAP_DATA	12524000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	314180
+SHUFFLE	COMPRESS_BYTE_COUNT	111602
+SHUFFLE	COPY_MAP_DATA	8041000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	698743
+SHUFFLE	COMPRESS_BYTE_COUNT	255230
+SHUFFLE	COPY_MAP_DATA	15295000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	669050
+SHUFFLE	COMPRESS_BYTE_COUNT	245552
+SHUFFLE	COPY_MAP_DATA	12927000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	526580
+SHUFFLE	COMPRESS_BYTE_COUNT	203881
+SHUFFLE	COPY_MAP_DATA	11696000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	746957
+SHUFFLE	COMPRESS_BYTE_COUNT	268948
+SHUFFLE	COPY_MAP_DATA	16421000
+SHUFFLE	UNCOMPRESS	0
+SORT	MERGE_MAP_DATA	35375455000
+SORT	READ_WRITE	35297973000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	101323440
+REDUCE	SETUP	380000
+REDUCE	SETUP_MEM	101323440
+REDUCE	CLEANUP	29000
+REDUCE	CLEANUP_MEM	91520984
+REDUCE	TOTAL_RUN	19532272338
+REDUCE	READ	582613000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	10923939338
+REDUCE	WRITE	3105553000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	11646978
+REDUCE	VALUE_BYTE_COUNT	1192781
+REDUCE	REDUCE_MEM	91520984
+REDUCE	WRITE	186752000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	557395190618
@@ -0,0 +1,410 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1021433
+SHUFFLE	COMPRESS_BYTE_COUNT	351943
+SHUFFLE	COPY_MAP_DATA	75662000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1123863
+SHUFFLE	COMPRESS_BYTE_COUNT	379148
+SHUFFLE	COPY_MAP_DATA	26274000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1001084
+SHUFFLE	COMPRESS_BYTE_COUNT	333546
+SHUFFLE	COPY_MAP_DATA	21086000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1078173
+SHUFFLE	COMPRESS_BYTE_COUNT	368395
+SHUFFLE	COPY_MAP_DATA	270839000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1131106
+SHUFFLE	COMPRESS_BYTE_COUNT	383531
+SHUFFLE	COPY_MAP_DATA	22809000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	796480
+SHUFFLE	COMPRESS_BYTE_COUNT	287523
+SHUFFLE	COPY_MAP_DATA	17905000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1128026
+SHUFFLE	COMPRESS_BYTE_COUNT	382392
+SHUFFLE	COPY_MAP_DATA	42939000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1098219
+SHUFFLE	COMPRESS_BYTE_COUNT	371928
+SHUFFLE	COPY_MAP_DATA	100416000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1118250
+SHUFFLE	COMPRESS_BYTE_COUNT	379007
+SHUFFLE	COPY_MAP_DATA	126600000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	799096
+SHUFFLE	COMPRESS_BYTE_COUNT	290589
+SHUFFLE	COPY_MAP_DATA	59812000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1156444
+SHUFFLE	COMPRESS_BYTE_COUNT	390706
+SHUFFLE	COPY_MAP_DATA	21571000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1149506
+SHUFFLE	COMPRESS_BYTE_COUNT	388606
+SHUFFLE	COPY_MAP_DATA	79391000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1092026
+SHUFFLE	COMPRESS_BYTE_COUNT	369571
+SHUFFLE	COPY_MAP_DATA	110034000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1121338
+SHUFFLE	COMPRESS_BYTE_COUNT	378673
+SHUFFLE	COPY_MAP_DATA	21761000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1179120
+SHUFFLE	COMPRESS_BYTE_COUNT	390296
+SHUFFLE	COPY_MAP_DATA	41426000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1093059
+SHUFFLE	COMPRESS_BYTE_COUNT	368048
+SHUFFLE	COPY_MAP_DATA	28421000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1126989
+SHUFFLE	COMPRESS_BYTE_COUNT	380073
+SHUFFLE	COPY_MAP_DATA	700446000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1140252
+SHUFFLE	COMPRESS_BYTE_COUNT	385253
+SHUFFLE	COPY_MAP_DATA	55187000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	945881
+SHUFFLE	COMPRESS_BYTE_COUNT	315912
+SHUFFLE	COPY_MAP_DATA	202481000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1099895
+SHUFFLE	COMPRESS_BYTE_COUNT	372884
+SHUFFLE	COPY_MAP_DATA	153805000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1245298
+SHUFFLE	COMPRESS_BYTE_COUNT	415569
+SHUFFLE	COPY_MAP_DATA	57052000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1091185
+SHUFFLE	COMPRESS_BYTE_COUNT	367381
+SHUFFLE	COPY_MAP_DATA	29808000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1116895
+SHUFFLE	COMPRESS_BYTE_COUNT	378078
+SHUFFLE	COPY_MAP_DATA	21878000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1112943
+SHUFFLE	COMPRESS_BYTE_COUNT	376108
+SHUFFLE	COPY_MAP_DATA	72504000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1010419
+SHUFFLE	COMPRESS_BYTE_COUNT	339886
+SHUFFLE	COPY_MAP_DATA	19288000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1073058
+SHUFFLE	COMPRESS_BYTE_COUNT	360786
+SHUFFLE	COPY_MAP_DATA	141615000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1003160
+SHUFFLE	COMPRESS_BYTE_COUNT	336453
+SHUFFLE	COPY_MAP_DATA	97219000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1086068
+SHUFFLE	COMPRESS_BYTE_COUNT	365810
+SHUFFLE	COPY_MAP_DATA	21348000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1093352
+SHUFFLE	COMPRESS_BYTE_COUNT	368439
+SHUFFLE	COPY_MAP_DATA	209065000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1119541
+SHUFFLE	COMPRESS_BYTE_COUNT	380961
+SHUFFLE	COPY_MAP_DATA	266442000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	753564
+SHUFFLE	COMPRESS_BYTE_COUNT	269553
+SHUFFLE	COPY_MAP_DATA	316589000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	752778
+SHUFFLE	COMPRESS_BYTE_COUNT	273529
+SHUFFLE	COPY_MAP_DATA	81224000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	756995
+SHUFFLE	COMPRESS_BYTE_COUNT	274976
+SHUFFLE	COPY_MAP_DATA	249435000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	785228
+SHUFFLE	COMPRESS_BYTE_COUNT	286655
+SHUFFLE	COPY_MAP_DATA	145708000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	789166
+SHUFFLE	COMPRESS_BYTE_COUNT	286213
+SHUFFLE	COPY_MAP_DATA	608261000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	851096
+SHUFFLE	COMPRESS_BYTE_COUNT	295601
+SHUFFLE	COPY_MAP_DATA	57975000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	793024
+SHUFFLE	COMPRESS_BYTE_COUNT	287681
+SHUFFLE	COPY_MAP_DATA	29055000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	759337
+SHUFFLE	COMPRESS_BYTE_COUNT	270900
+SHUFFLE	COPY_MAP_DATA	2465627000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	852825
+SHUFFLE	COMPRESS_BYTE_COUNT	293170
+SHUFFLE	COPY_MAP_DATA	110056000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1019344
+SHUFFLE	COMPRESS_BYTE_COUNT	350869
+SHUFFLE	COPY_MAP_DATA	307865000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	781274
+SHUFFLE	COMPRESS_BYTE_COUNT	283149
+SHUFFLE	COPY_MAP_DATA	17013000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	751446
+SHUFFLE	COMPRESS_BYTE_COUNT	271278
+SHUFFLE	COPY_MAP_DATA	14743000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	716214
+SHUFFLE	COMPRESS_BYTE_COUNT	260297
+SHUFFLE	COPY_MAP_DATA	22480000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	771876
+SHUFFLE	COMPRESS_BYTE_COUNT	283829
+SHUFFLE	COPY_MAP_DATA	18180000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	743590
+SHUFFLE	COMPRESS_BYTE_COUNT	269942
+SHUFFLE	COPY_MAP_DATA	16179000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1036916
+SHUFFLE	COMPRESS_BYTE_COUNT	356289
+SHUFFLE	COPY_MAP_DATA	28502000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	850838
+SHUFFLE	COMPRESS_BYTE_COUNT	301015
+SHUFFLE	COPY_MAP_DATA	11627144000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	746433
+SHUFFLE	COMPRESS_BYTE_COUNT	271927
+SHUFFLE	COPY_MAP_DATA	15512000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	746912
+SHUFFLE	COMPRESS_BYTE_COUNT	273013
+SHUFFLE	COPY_MAP_DATA	654249000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	770141
+SHUFFLE	COMPRESS_BYTE_COUNT	279569
+SHUFFLE	COPY_MAP_DATA	50409000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	771135
+SHUFFLE	COMPRESS_BYTE_COUNT	278156
+SHUFFLE	COPY_MAP_DATA	15217000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	974959
+SHUFFLE	COMPRESS_BYTE_COUNT	336694
+SHUFFLE	COPY_MAP_DATA	40631000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1122825
+SHUFFLE	COMPRESS_BYTE_COUNT	379594
+SHUFFLE	COPY_MAP_DATA	249972000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1119217
+SHUFFLE	COMPRESS_BYTE_COUNT	378598
+SHUFFLE	COPY_MAP_DATA	41358000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	743212
+SHUFFLE	COMPRESS_BYTE_COUNT	270657
+SHUFFLE	COPY_MAP_DATA	22153000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1102395
+SHUFFLE	COMPRESS_BYTE_COUNT	373981
+SHUFFLE	COPY_MAP_DATA	28430000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	754052
+SHUFFLE	COMPRESS_BYTE_COUNT	269404
+SHUFFLE	COPY_MAP_DATA	15184000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	962630
+SHUFFLE	COMPRESS_BYTE_COUNT	334981
+SHUFFLE	COPY_MAP_DATA	18740000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1147414
+SHUFFLE	COMPRESS_BYTE_COUNT	391893
+SHUFFLE	COPY_MAP_DATA	129446000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	221499
+SHUFFLE	COMPRESS_BYTE_COUNT	96634
+SHUFFLE	COPY_MAP_DATA	134257000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	717940
+SHUFFLE	COMPRESS_BYTE_COUNT	261401
+SHUFFLE	COPY_MAP_DATA	15184000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1120181
+SHUFFLE	COMPRESS_BYTE_COUNT	379365
+SHUFFLE	COPY_MAP_DATA	79620000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	749209
+SHUFFLE	COMPRESS_BYTE_COUNT	272923
+SHUFFLE	COPY_MAP_DATA	15161000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	312157
+SHUFFLE	COMPRESS_BYTE_COUNT	128221
+SHUFFLE	COPY_MAP_DATA	102410000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	240525
+SHUFFLE	COMPRESS_BYTE_COUNT	103795
+SHUFFLE	COPY_MAP_DATA	10849000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	354159
+SHUFFLE	COMPRESS_BYTE_COUNT	141762
+SHUFFLE	COPY_MAP_DATA	29932000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	409454
+SHUFFLE	COMPRESS_BYTE_COUNT	160514
+SHUFFLE	COPY_MAP_DATA	10350000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	207673
+SHUFFLE	COMPRESS_BYTE_COUNT	90641
+SHUFFLE	COPY_MAP_DATA	272958000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	746087
+SHUFFLE	COMPRESS_BYTE_COUNT	271028
+SHUFFLE	COPY_MAP_DATA	19863000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	182744
+SHUFFLE	COMPRESS_BYTE_COUNT	79820
+SHUFFLE	COPY_MAP_DATA	7551000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	214817
+SHUFFLE	COMPRESS_BYTE_COUNT	91784
+SHUFFLE	COPY_MAP_DATA	22274000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	468788
+SHUFFLE	COMPRESS_BYTE_COUNT	181908
+SHUFFLE	COPY_MAP_DATA	67186000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	725765
+SHUFFLE	COMPRESS_BYTE_COUNT	264846
+SHUFFLE	COPY_MAP_DATA	15762000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	172511
+SHUFFLE	COMPRESS_BYTE_COUNT	75823
+SHUFFLE	COPY_MAP_DATA	6743000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	138386
+SHUFFLE	COMPRESS_BYTE_COUNT	60761
+SHUFFLE	COPY_MAP_DATA	23712000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	642663
+SHUFFLE	COMPRESS_BYTE_COUNT	237964
+SHUFFLE	COPY_MAP_DATA	51190000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	742014
+SHUFFLE	COMPRESS_BYTE_COUNT	269492
+SHUFFLE	COPY_MAP_DATA	112161000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	715666
+SHUFFLE	COMPRESS_BYTE_COUNT	260683
+SHUFFLE	COPY_MAP_DATA	55622000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	714148
+SHUFFLE	COMPRESS_BYTE_COUNT	260357
+SHUFFLE	COPY_MAP_DATA	14349000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	662591
+SHUFFLE	COMPRESS_BYTE_COUNT	242550
+SHUFFLE	COPY_MAP_DATA	41018000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	444890
+SHUFFLE	COMPRESS_BYTE_COUNT	171731
+SHUFFLE	COPY_MAP_DATA	49980000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	513902
+SHUFFLE	COMPRESS_BYTE_COUNT	197999
+SHUFFLE	COPY_MAP_DATA	73720000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	657742
+SHUFFLE	COMPRESS_BYTE_COUNT	239609
+SHUFFLE	COPY_MAP_DATA	83866000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	485176
+SHUFFLE	COMPRESS_BYTE_COUNT	188208
+SHUFFLE	COPY_MAP_DATA	11645000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	647659
+SHUFFLE	COMPRESS_BYTE_COUNT	240314
+SHUFFLE	COPY_MAP_DATA	13672000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	716327
+SHUFFLE	COMPRESS_BYTE_COUNT	261224
+SHUFFLE	COPY_MAP_DATA	13930000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	639673
+SHUFFLE	COMPRESS_BYTE_COUNT	239597
+SHUFFLE	COPY_MAP_DATA	12641000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	408312
+SHUFFLE	COMPRESS_BYTE_COUNT	160124
+SHUFFLE	COPY_MAP_DATA	11494000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	728161
+SHUFFLE	COMPRESS_BYTE_COUNT	264542
+SHUFFLE	COPY_MAP_DATA	14772000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	705069
+SHUFFLE	COMPRESS_BYTE_COUNT	257146
+SHUFFLE	COPY_MAP_DATA	13980000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	569463
+SHUFFLE	COMPRESS_BYTE_COUNT	218729
+SHUFFLE	COPY_MAP_DATA	30325000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	504442
+SHUFFLE	COMPRESS_BYTE_COUNT	194473
+SHUFFLE	COPY_MAP_DATA	63265000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	315607
+SHUFFLE	COMPRESS_BYTE_COUNT	111970
+SHUFFLE	COPY_MAP_DATA	8787000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	696957
+SHUFFLE	COMPRESS_BYTE_COUNT	254765
+SHUFFLE	COPY_MAP_DATA	22366000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	660599
+SHUFFLE	COMPRESS_BYTE_COUNT	242925
+SHUFFLE	COPY_MAP_DATA	12455000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	531181
+SHUFFLE	COMPRESS_BYTE_COUNT	205073
+SHUFFLE	COPY_MAP_DATA	12076000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	747755
+SHUFFLE	COMPRESS_BYTE_COUNT	269289
+SHUFFLE	COPY_MAP_DATA	81990000
+SHUFFLE	UNCOMPRESS	0
+SORT	MERGE_MAP_DATA	35574680925
+SORT	READ_WRITE	35494977925
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	79976312
+REDUCE	SETUP	286000
+REDUCE	SETUP_MEM	79976312
+REDUCE	CLEANUP	26000
+REDUCE	CLEANUP_MEM	92679560
+REDUCE	TOTAL_RUN	18120980000
+REDUCE	READ	831807000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	9892847000
+REDUCE	WRITE	2732251000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	11669129
+REDUCE	VALUE_BYTE_COUNT	1195497
+REDUCE	REDUCE_MEM	92681608
+REDUCE	WRITE	8013000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	562592068325
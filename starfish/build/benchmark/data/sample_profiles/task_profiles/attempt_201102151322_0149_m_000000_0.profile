@@ -0,0 +1,67 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt2/part-00025	0
+MAP	STARTUP_MEM	212771368
+MAP	SETUP	476000
+MAP	SETUP_MEM	212771368
+SPILL	SORT_AND_SPILL	28420205000
+SPILL	QUICK_SORT	15686791000
+SPILL	SORT_COUNT	5242880
+SPILL	COMBINE	12403211000
+SPILL	WRITE	5127763000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7429364
+SPILL	COMPRESS_BYTE_COUNT	7429472
+SPILL	SORT_AND_SPILL	28261938000
+SPILL	QUICK_SORT	15704333000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	10617307000
+SPILL	WRITE	2359925000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7356847
+SPILL	COMPRESS_BYTE_COUNT	7356955
+SPILL	SORT_AND_SPILL	30741214000
+SPILL	QUICK_SORT	23216518000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	7093540000
+SPILL	WRITE	818860000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7614266
+SPILL	COMPRESS_BYTE_COUNT	7614374
+SPILL	SORT_AND_SPILL	25653158000
+SPILL	QUICK_SORT	15868701000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	9406118000
+SPILL	WRITE	872733000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7464801
+SPILL	COMPRESS_BYTE_COUNT	7464909
+MAP	CLEANUP	119000
+MAP	CLEANUP_MEM	213724944
+MAP	TOTAL_RUN	279750187810
+MAP	READ	4492789000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	458911
+MAP	VALUE_BYTE_COUNT	145144115
+MAP	MAP	275026401810
+MAP	WRITE	159203569371
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	26556773000
+MAP	SERIALIZE_OUTPUT	67356358371
+MAP	MAP_MEM	213724944
+SPILL	SORT_AND_SPILL	5938207000
+SPILL	QUICK_SORT	2706462000
+SPILL	SORT_COUNT	1988105
+SPILL	COMBINE	3046903000
+SPILL	WRITE	409076000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	3566004
+SPILL	COMPRESS_BYTE_COUNT	3566112
+MERGE	TOTAL_MERGE	3865143000
+MERGE	READ_WRITE	3591676000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	290026402810
@@ -0,0 +1,67 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt2/part-00027	0
+MAP	STARTUP_MEM	213650296
+MAP	SETUP	533000
+MAP	SETUP_MEM	213650296
+SPILL	SORT_AND_SPILL	26298676000
+SPILL	QUICK_SORT	13420040000
+SPILL	SORT_COUNT	5242880
+SPILL	COMBINE	11831351000
+SPILL	WRITE	1661871000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7273189
+SPILL	COMPRESS_BYTE_COUNT	7273297
+SPILL	SORT_AND_SPILL	25323828362
+SPILL	QUICK_SORT	12968952362
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	11677532000
+SPILL	WRITE	1981907000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7354063
+SPILL	COMPRESS_BYTE_COUNT	7354171
+SPILL	SORT_AND_SPILL	26069734000
+SPILL	QUICK_SORT	13603247000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	11986501000
+SPILL	WRITE	1644715000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7192392
+SPILL	COMPRESS_BYTE_COUNT	7192500
+MAP	CLEANUP	105000
+MAP	CLEANUP_MEM	212096440
+MAP	TOTAL_RUN	313929853809
+MAP	READ	3004519000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	478066
+MAP	VALUE_BYTE_COUNT	143014171
+MAP	MAP	310521188809
+MAP	WRITE	175518410934
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	34483100572
+MAP	SERIALIZE_OUTPUT	49512013362
+MAP	MAP_MEM	212096440
+SPILL	SORT_AND_SPILL	25241932000
+SPILL	QUICK_SORT	12803594000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	11990170000
+SPILL	WRITE	1396270000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7365338
+SPILL	COMPRESS_BYTE_COUNT	7365446
+SPILL	SORT_AND_SPILL	4128753000
+SPILL	QUICK_SORT	1605488000
+SPILL	SORT_COUNT	1212005
+SPILL	COMBINE	2457314000
+SPILL	WRITE	333216000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	2531320
+SPILL	COMPRESS_BYTE_COUNT	2531428
+MERGE	TOTAL_MERGE	5022422514
+MERGE	READ_WRITE	4586137514
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	328893129323
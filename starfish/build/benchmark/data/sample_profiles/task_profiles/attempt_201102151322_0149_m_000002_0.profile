@@ -0,0 +1,67 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt2/part-00028	0
+MAP	STARTUP_MEM	213622360
+MAP	SETUP	505000
+MAP	SETUP_MEM	213622360
+SPILL	SORT_AND_SPILL	28352340000
+SPILL	QUICK_SORT	14513124000
+SPILL	SORT_COUNT	5242880
+SPILL	COMBINE	13512291000
+SPILL	WRITE	2777920000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7310546
+SPILL	COMPRESS_BYTE_COUNT	7310654
+SPILL	SORT_AND_SPILL	27995229000
+SPILL	QUICK_SORT	17766315000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	9761579000
+SPILL	WRITE	3913991000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7406652
+SPILL	COMPRESS_BYTE_COUNT	7406760
+SPILL	SORT_AND_SPILL	27663306000
+SPILL	QUICK_SORT	14198779000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	10234966000
+SPILL	WRITE	973941000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7622723
+SPILL	COMPRESS_BYTE_COUNT	7622831
+MAP	CLEANUP	103000
+MAP	CLEANUP_MEM	215137064
+MAP	TOTAL_RUN	245966882321
+MAP	READ	4594355000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	436501
+MAP	VALUE_BYTE_COUNT	135546168
+MAP	MAP	241067929321
+MAP	WRITE	137584093000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	25594791000
+MAP	SERIALIZE_OUTPUT	52406945000
+MAP	MAP_MEM	215137064
+SPILL	SORT_AND_SPILL	18675466000
+SPILL	QUICK_SORT	10087028000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	7713449000
+SPILL	WRITE	902519000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7509132
+SPILL	COMPRESS_BYTE_COUNT	7509240
+SPILL	SORT_AND_SPILL	1301972000
+SPILL	QUICK_SORT	398603000
+SPILL	SORT_COUNT	456215
+SPILL	COMBINE	883972000
+SPILL	WRITE	125365000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	1154100
+SPILL	COMPRESS_BYTE_COUNT	1154208
+MERGE	TOTAL_MERGE	4334996000
+MERGE	READ_WRITE	4118125000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	266777357321
@@ -0,0 +1,67 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt2/part-00026	0
+MAP	STARTUP_MEM	213626296
+MAP	SETUP	506000
+MAP	SETUP_MEM	213626296
+SPILL	SORT_AND_SPILL	29877263000
+SPILL	QUICK_SORT	18378515000
+SPILL	SORT_COUNT	5242880
+SPILL	COMBINE	11079322000
+SPILL	WRITE	2599953000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7312636
+SPILL	COMPRESS_BYTE_COUNT	7312744
+SPILL	SORT_AND_SPILL	28896035000
+SPILL	QUICK_SORT	17388036000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	11129147000
+SPILL	WRITE	781464000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7241092
+SPILL	COMPRESS_BYTE_COUNT	7241200
+SPILL	SORT_AND_SPILL	28176951242
+SPILL	QUICK_SORT	14876821242
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	11269573000
+SPILL	WRITE	850097000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7269002
+SPILL	COMPRESS_BYTE_COUNT	7269110
+MAP	CLEANUP	103000
+MAP	CLEANUP_MEM	214125824
+MAP	TOTAL_RUN	256564444242
+MAP	READ	4371110000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	426218
+MAP	VALUE_BYTE_COUNT	135407126
+MAP	MAP	251981865242
+MAP	WRITE	145702483242
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	25388684000
+MAP	SERIALIZE_OUTPUT	49997412000
+MAP	MAP_MEM	214125824
+SPILL	SORT_AND_SPILL	21889718000
+SPILL	QUICK_SORT	13653561000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	7857503000
+SPILL	WRITE	1880592000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7131834
+SPILL	COMPRESS_BYTE_COUNT	7131942
+SPILL	SORT_AND_SPILL	1328786000
+SPILL	QUICK_SORT	442091000
+SPILL	SORT_COUNT	498654
+SPILL	COMBINE	862482000
+SPILL	WRITE	147262000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	1234589
+SPILL	COMPRESS_BYTE_COUNT	1234697
+MERGE	TOTAL_MERGE	3794143000
+MERGE	READ_WRITE	3502897000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	271206212242
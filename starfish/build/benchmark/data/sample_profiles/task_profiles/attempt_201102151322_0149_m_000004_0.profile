@@ -0,0 +1,67 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt2/part-00029	0
+MAP	STARTUP_MEM	213629752
+MAP	SETUP	519000
+MAP	SETUP_MEM	213629752
+SPILL	SORT_AND_SPILL	32589913000
+SPILL	QUICK_SORT	20399909000
+SPILL	SORT_COUNT	5242880
+SPILL	COMBINE	11544025000
+SPILL	WRITE	1430732000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7429201
+SPILL	COMPRESS_BYTE_COUNT	7429309
+SPILL	SORT_AND_SPILL	27505851000
+SPILL	QUICK_SORT	15806929000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	7567516000
+SPILL	WRITE	801398000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7442284
+SPILL	COMPRESS_BYTE_COUNT	7442392
+SPILL	SORT_AND_SPILL	32809562000
+SPILL	QUICK_SORT	24992222000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	7337156000
+SPILL	WRITE	830517000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7312822
+SPILL	COMPRESS_BYTE_COUNT	7312930
+MAP	CLEANUP	127000
+MAP	CLEANUP_MEM	214227912
+MAP	TOTAL_RUN	292890138000
+MAP	READ	5502907000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	437328
+MAP	VALUE_BYTE_COUNT	134459949
+MAP	MAP	287103249000
+MAP	WRITE	160560716000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	29689939000
+MAP	SERIALIZE_OUTPUT	69284878000
+MAP	MAP_MEM	214227912
+SPILL	SORT_AND_SPILL	22132471000
+SPILL	QUICK_SORT	13334223000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	8356762000
+SPILL	WRITE	896543000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7440039
+SPILL	COMPRESS_BYTE_COUNT	7440147
+SPILL	SORT_AND_SPILL	802265000
+SPILL	QUICK_SORT	236691000
+SPILL	SORT_COUNT	265058
+SPILL	COMBINE	548674000
+SPILL	WRITE	80291000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	747685
+SPILL	COMPRESS_BYTE_COUNT	747793
+MERGE	TOTAL_MERGE	3602350000
+MERGE	READ_WRITE	3312020000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	313775998000
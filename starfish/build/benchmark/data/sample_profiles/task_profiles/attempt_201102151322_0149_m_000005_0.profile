@@ -0,0 +1,67 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt2/part-00000	0
+MAP	STARTUP_MEM	213614960
+MAP	SETUP	543000
+MAP	SETUP_MEM	213614960
+SPILL	SORT_AND_SPILL	24277794000
+SPILL	QUICK_SORT	13021995000
+SPILL	SORT_COUNT	5242880
+SPILL	COMBINE	10819075000
+SPILL	WRITE	1468274000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	6898299
+SPILL	COMPRESS_BYTE_COUNT	6898407
+SPILL	SORT_AND_SPILL	25480703362
+SPILL	QUICK_SORT	13648388000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	11293231362
+SPILL	WRITE	1747215000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	6730583
+SPILL	COMPRESS_BYTE_COUNT	6730691
+SPILL	SORT_AND_SPILL	26421368361
+SPILL	QUICK_SORT	14671666361
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	11283171000
+SPILL	WRITE	1326026000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	6945725
+SPILL	COMPRESS_BYTE_COUNT	6945833
+MAP	CLEANUP	47000
+MAP	CLEANUP_MEM	211583264
+MAP	TOTAL_RUN	281395234809
+MAP	READ	2351520000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	64452
+MAP	VALUE_BYTE_COUNT	134228132
+MAP	MAP	278985176809
+MAP	WRITE	154830068724
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	33395564000
+MAP	SERIALIZE_OUTPUT	43027104000
+MAP	MAP_MEM	211583280
+SPILL	SORT_AND_SPILL	26246234000
+SPILL	QUICK_SORT	10952376000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	14556820000
+SPILL	WRITE	1909486000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	6697733
+SPILL	COMPRESS_BYTE_COUNT	6697841
+SPILL	SORT_AND_SPILL	190796000
+SPILL	QUICK_SORT	348000
+SPILL	SORT_COUNT	1005
+SPILL	COMBINE	187502000
+SPILL	WRITE	976000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7481
+SPILL	COMPRESS_BYTE_COUNT	7589
+MERGE	TOTAL_MERGE	7201493000
+MERGE	READ_WRITE	6920317000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	315566456809
@@ -0,0 +1,67 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt2/part-00001	0
+MAP	STARTUP_MEM	213611680
+MAP	SETUP	554000
+MAP	SETUP_MEM	213611680
+SPILL	SORT_AND_SPILL	27552531000
+SPILL	QUICK_SORT	11723735000
+SPILL	SORT_COUNT	5242880
+SPILL	COMBINE	14623112000
+SPILL	WRITE	813251000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	6454545
+SPILL	COMPRESS_BYTE_COUNT	6454653
+SPILL	SORT_AND_SPILL	23658511000
+SPILL	QUICK_SORT	14455440000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	7206644000
+SPILL	WRITE	830225000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	6760845
+SPILL	COMPRESS_BYTE_COUNT	6760953
+SPILL	SORT_AND_SPILL	27163959000
+SPILL	QUICK_SORT	11170520000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	13617893000
+SPILL	WRITE	1037712000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	6751949
+SPILL	COMPRESS_BYTE_COUNT	6752057
+MAP	CLEANUP	52000
+MAP	CLEANUP_MEM	212463864
+MAP	TOTAL_RUN	238378609000
+MAP	READ	2969787000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	94606
+MAP	VALUE_BYTE_COUNT	134210418
+MAP	MAP	235338685000
+MAP	WRITE	125084301000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	27296795000
+MAP	SERIALIZE_OUTPUT	45168501000
+MAP	MAP_MEM	212540280
+SPILL	SORT_AND_SPILL	16078380000
+SPILL	QUICK_SORT	8957305000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	6769649000
+SPILL	WRITE	743173000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	6937184
+SPILL	COMPRESS_BYTE_COUNT	6937292
+SPILL	SORT_AND_SPILL	157032000
+SPILL	QUICK_SORT	25917000
+SPILL	SORT_COUNT	49988
+SPILL	COMBINE	128190000
+SPILL	WRITE	33114000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	213250
+SPILL	COMPRESS_BYTE_COUNT	213358
+MERGE	TOTAL_MERGE	3560541000
+MERGE	READ_WRITE	3317058000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	254674927000
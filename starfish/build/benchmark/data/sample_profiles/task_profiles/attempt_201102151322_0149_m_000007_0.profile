@@ -0,0 +1,67 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt2/part-00002	0
+MAP	STARTUP_MEM	213612256
+MAP	SETUP	596000
+MAP	SETUP_MEM	213612256
+SPILL	SORT_AND_SPILL	30045851000
+SPILL	QUICK_SORT	16155157000
+SPILL	SORT_COUNT	5242880
+SPILL	COMBINE	13237732000
+SPILL	WRITE	1461160000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7034957
+SPILL	COMPRESS_BYTE_COUNT	7035065
+SPILL	SORT_AND_SPILL	29852512000
+SPILL	QUICK_SORT	17625797000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	11754573000
+SPILL	WRITE	668041000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	6357432
+SPILL	COMPRESS_BYTE_COUNT	6357540
+SPILL	SORT_AND_SPILL	27442739000
+SPILL	QUICK_SORT	15509253000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	9014091000
+SPILL	WRITE	806867000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	6865739
+SPILL	COMPRESS_BYTE_COUNT	6865847
+MAP	CLEANUP	130000
+MAP	CLEANUP_MEM	214343552
+MAP	TOTAL_RUN	276813363000
+MAP	READ	2858932000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	175168
+MAP	VALUE_BYTE_COUNT	134196959
+MAP	MAP	273816760000
+MAP	WRITE	146213486000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	28986690000
+MAP	SERIALIZE_OUTPUT	53637127000
+MAP	MAP_MEM	214343552
+SPILL	SORT_AND_SPILL	19385849000
+SPILL	QUICK_SORT	12083677000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	6707633000
+SPILL	WRITE	685336000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	4734360
+SPILL	COMPRESS_BYTE_COUNT	4734468
+SPILL	SORT_AND_SPILL	813809000
+SPILL	QUICK_SORT	296224000
+SPILL	SORT_COUNT	422790
+SPILL	COMBINE	492810000
+SPILL	WRITE	60336000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	573382
+SPILL	COMPRESS_BYTE_COUNT	573490
+MERGE	TOTAL_MERGE	3008322000
+MERGE	READ_WRITE	2754639000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	284904091000
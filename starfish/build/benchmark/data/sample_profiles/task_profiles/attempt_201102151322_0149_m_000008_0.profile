@@ -0,0 +1,67 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt2/part-00003	0
+MAP	STARTUP_MEM	213630248
+MAP	SETUP	550000
+MAP	SETUP_MEM	213630248
+SPILL	SORT_AND_SPILL	23062364000
+SPILL	QUICK_SORT	12995377000
+SPILL	SORT_COUNT	5242880
+SPILL	COMBINE	9418012000
+SPILL	WRITE	972871000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	5076083
+SPILL	COMPRESS_BYTE_COUNT	5076191
+SPILL	SORT_AND_SPILL	27835631000
+SPILL	QUICK_SORT	14896831000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	12125637000
+SPILL	WRITE	1163304000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	6849676
+SPILL	COMPRESS_BYTE_COUNT	6849784
+SPILL	SORT_AND_SPILL	27992946601
+SPILL	QUICK_SORT	13290877601
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	14011850000
+SPILL	WRITE	2496795000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	6930030
+SPILL	COMPRESS_BYTE_COUNT	6930138
+MAP	CLEANUP	112000
+MAP	CLEANUP_MEM	214664080
+MAP	TOTAL_RUN	316564501008
+MAP	READ	3038927000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	153739
+MAP	VALUE_BYTE_COUNT	134204771
+MAP	MAP	313202978008
+MAP	WRITE	172847717204
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	34183164000
+MAP	SERIALIZE_OUTPUT	49678609000
+MAP	MAP_MEM	214664080
+SPILL	SORT_AND_SPILL	25318830000
+SPILL	QUICK_SORT	14139637000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	10512826000
+SPILL	WRITE	1158596000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	6871847
+SPILL	COMPRESS_BYTE_COUNT	6871955
+SPILL	SORT_AND_SPILL	1355188000
+SPILL	QUICK_SORT	429111000
+SPILL	SORT_COUNT	471476
+SPILL	COMBINE	894220000
+SPILL	WRITE	135540000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	1112541
+SPILL	COMPRESS_BYTE_COUNT	1112649
+MERGE	TOTAL_MERGE	3350957000
+MERGE	READ_WRITE	3054793000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	330751926008
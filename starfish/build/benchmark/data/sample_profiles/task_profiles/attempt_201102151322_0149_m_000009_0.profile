@@ -0,0 +1,67 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt2/part-00004	0
+MAP	STARTUP_MEM	212764240
+MAP	SETUP	485000
+MAP	SETUP_MEM	212764240
+SPILL	SORT_AND_SPILL	27262557000
+SPILL	QUICK_SORT	15513320000
+SPILL	SORT_COUNT	5242880
+SPILL	COMBINE	10564017000
+SPILL	WRITE	979239000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7288190
+SPILL	COMPRESS_BYTE_COUNT	7288298
+SPILL	SORT_AND_SPILL	27697092602
+SPILL	QUICK_SORT	14732642000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	12109654602
+SPILL	WRITE	1116424000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7283742
+SPILL	COMPRESS_BYTE_COUNT	7283850
+SPILL	SORT_AND_SPILL	32344240601
+SPILL	QUICK_SORT	15770760601
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	15933256000
+SPILL	WRITE	2020984000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7147074
+SPILL	COMPRESS_BYTE_COUNT	7147182
+MAP	CLEANUP	114000
+MAP	CLEANUP_MEM	215206488
+MAP	TOTAL_RUN	304404033008
+MAP	READ	2642692000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	135091
+MAP	VALUE_BYTE_COUNT	134202856
+MAP	MAP	301625740008
+MAP	WRITE	167862814805
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	33216898000
+MAP	SERIALIZE_OUTPUT	50420876203
+MAP	MAP_MEM	215206488
+SPILL	SORT_AND_SPILL	21913315000
+SPILL	QUICK_SORT	12005958000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	9451735000
+SPILL	WRITE	1204536000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7283749
+SPILL	COMPRESS_BYTE_COUNT	7283857
+SPILL	SORT_AND_SPILL	494777000
+SPILL	QUICK_SORT	81867000
+SPILL	SORT_COUNT	129695
+SPILL	COMBINE	397813000
+SPILL	WRITE	116116000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	437756
+SPILL	COMPRESS_BYTE_COUNT	437864
+MERGE	TOTAL_MERGE	4518237000
+MERGE	READ_WRITE	4213510000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	324676228008
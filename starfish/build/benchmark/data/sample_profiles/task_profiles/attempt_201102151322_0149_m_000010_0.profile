@@ -0,0 +1,67 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt2/part-00005	0
+MAP	STARTUP_MEM	213617080
+MAP	SETUP	477000
+MAP	SETUP_MEM	213617080
+SPILL	SORT_AND_SPILL	28309723000
+SPILL	QUICK_SORT	14509806000
+SPILL	SORT_COUNT	5242880
+SPILL	COMBINE	13402451000
+SPILL	WRITE	5519395000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7238258
+SPILL	COMPRESS_BYTE_COUNT	7238366
+SPILL	SORT_AND_SPILL	27672082000
+SPILL	QUICK_SORT	18051888000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	9207892000
+SPILL	WRITE	787796000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7341486
+SPILL	COMPRESS_BYTE_COUNT	7341594
+SPILL	SORT_AND_SPILL	27853240000
+SPILL	QUICK_SORT	19499985000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	7800342000
+SPILL	WRITE	817659000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7404624
+SPILL	COMPRESS_BYTE_COUNT	7404732
+MAP	CLEANUP	109000
+MAP	CLEANUP_MEM	214131144
+MAP	TOTAL_RUN	248498687154
+MAP	READ	4024324000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	157404
+MAP	VALUE_BYTE_COUNT	134218208
+MAP	MAP	244380989154
+MAP	WRITE	141508665154
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	24992504000
+MAP	SERIALIZE_OUTPUT	55727917154
+MAP	MAP_MEM	214290568
+SPILL	SORT_AND_SPILL	17823103000
+SPILL	QUICK_SORT	10045125000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	7455566000
+SPILL	WRITE	754314000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7239480
+SPILL	COMPRESS_BYTE_COUNT	7239588
+SPILL	SORT_AND_SPILL	1767739000
+SPILL	QUICK_SORT	284894000
+SPILL	SORT_COUNT	139818
+SPILL	COMBINE	1471985000
+SPILL	WRITE	51127000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	463636
+SPILL	COMPRESS_BYTE_COUNT	463744
+MERGE	TOTAL_MERGE	5403021000
+MERGE	READ_WRITE	4872151000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	268446737154
@@ -0,0 +1,67 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt2/part-00006	0
+MAP	STARTUP_MEM	213629648
+MAP	SETUP	496000
+MAP	SETUP_MEM	213629648
+SPILL	SORT_AND_SPILL	31071640000
+SPILL	QUICK_SORT	16451896000
+SPILL	SORT_COUNT	5242880
+SPILL	COMBINE	14086624000
+SPILL	WRITE	3341472000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7031881
+SPILL	COMPRESS_BYTE_COUNT	7031989
+SPILL	SORT_AND_SPILL	28298454000
+SPILL	QUICK_SORT	14817083000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	13045679000
+SPILL	WRITE	2375951000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	6928162
+SPILL	COMPRESS_BYTE_COUNT	6928270
+SPILL	SORT_AND_SPILL	22335326000
+SPILL	QUICK_SORT	14006330000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	7877952000
+SPILL	WRITE	767007000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	6986842
+SPILL	COMPRESS_BYTE_COUNT	6986950
+MAP	CLEANUP	114000
+MAP	CLEANUP_MEM	213452512
+MAP	TOTAL_RUN	245435633000
+MAP	READ	3025133000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	178725
+MAP	VALUE_BYTE_COUNT	134196045
+MAP	MAP	242310619000
+MAP	WRITE	143330334000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	28254098000
+MAP	SERIALIZE_OUTPUT	57758043000
+MAP	MAP_MEM	213613632
+SPILL	SORT_AND_SPILL	18317314000
+SPILL	QUICK_SORT	11070673000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	6552611000
+SPILL	WRITE	715566000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7140744
+SPILL	COMPRESS_BYTE_COUNT	7140852
+SPILL	SORT_AND_SPILL	515618000
+SPILL	QUICK_SORT	134484000
+SPILL	SORT_COUNT	209856
+SPILL	COMBINE	374235000
+SPILL	WRITE	69231000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	670733
+SPILL	COMPRESS_BYTE_COUNT	670841
+MERGE	TOTAL_MERGE	4168364000
+MERGE	READ_WRITE	3714322000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	265049279000
@@ -0,0 +1,67 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt2/part-00007	0
+MAP	STARTUP_MEM	212782312
+MAP	SETUP	432000
+MAP	SETUP_MEM	212782312
+SPILL	SORT_AND_SPILL	27496581000
+SPILL	QUICK_SORT	16964949000
+SPILL	SORT_COUNT	5242880
+SPILL	COMBINE	10110783000
+SPILL	WRITE	758861000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7252753
+SPILL	COMPRESS_BYTE_COUNT	7252861
+SPILL	SORT_AND_SPILL	27528492000
+SPILL	QUICK_SORT	16989782000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	10142493000
+SPILL	WRITE	970368000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7095072
+SPILL	COMPRESS_BYTE_COUNT	7095180
+SPILL	SORT_AND_SPILL	28276777000
+SPILL	QUICK_SORT	15151033000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	12288965000
+SPILL	WRITE	950451000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7189605
+SPILL	COMPRESS_BYTE_COUNT	7189713
+MAP	CLEANUP	109000
+MAP	CLEANUP_MEM	213823048
+MAP	TOTAL_RUN	239458745000
+MAP	READ	1859830000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	202722
+MAP	VALUE_BYTE_COUNT	134198166
+MAP	MAP	237488648000
+MAP	WRITE	136895162000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	24647650000
+MAP	SERIALIZE_OUTPUT	50821186000
+MAP	MAP_MEM	213823048
+SPILL	SORT_AND_SPILL	17953018000
+SPILL	QUICK_SORT	9778832000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	7097316000
+SPILL	WRITE	770214000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7444336
+SPILL	COMPRESS_BYTE_COUNT	7444444
+SPILL	SORT_AND_SPILL	458495000
+SPILL	QUICK_SORT	130969000
+SPILL	SORT_COUNT	186608
+SPILL	COMBINE	322135000
+SPILL	WRITE	58250000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	571555
+SPILL	COMPRESS_BYTE_COUNT	571663
+MERGE	TOTAL_MERGE	3625591000
+MERGE	READ_WRITE	3372834000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	259244061000
@@ -0,0 +1,67 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt2/part-00008	0
+MAP	STARTUP_MEM	213635368
+MAP	SETUP	545000
+MAP	SETUP_MEM	213635368
+SPILL	SORT_AND_SPILL	28865939000
+SPILL	QUICK_SORT	16820247000
+SPILL	SORT_COUNT	5242880
+SPILL	COMBINE	10772507000
+SPILL	WRITE	1699748000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7237068
+SPILL	COMPRESS_BYTE_COUNT	7237176
+SPILL	SORT_AND_SPILL	30755282000
+SPILL	QUICK_SORT	13163878000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	17005127000
+SPILL	WRITE	1407319000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7014272
+SPILL	COMPRESS_BYTE_COUNT	7014380
+SPILL	SORT_AND_SPILL	36232862770
+SPILL	QUICK_SORT	19510731770
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	13487293000
+SPILL	WRITE	1407280000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7255413
+SPILL	COMPRESS_BYTE_COUNT	7255521
+MAP	CLEANUP	50000
+MAP	CLEANUP_MEM	213583088
+MAP	TOTAL_RUN	297862982777
+MAP	READ	2347650000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	216930
+MAP	VALUE_BYTE_COUNT	134203631
+MAP	MAP	295158343777
+MAP	WRITE	173466573866
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	33383457000
+MAP	SERIALIZE_OUTPUT	61789143000
+MAP	MAP_MEM	213583088
+SPILL	SORT_AND_SPILL	20567508000
+SPILL	QUICK_SORT	12014325000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	8104581000
+SPILL	WRITE	1161367000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7138797
+SPILL	COMPRESS_BYTE_COUNT	7138905
+SPILL	SORT_AND_SPILL	1013129000
+SPILL	QUICK_SORT	198527000
+SPILL	SORT_COUNT	224076
+SPILL	COMBINE	595201000
+SPILL	WRITE	207648000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	651250
+SPILL	COMPRESS_BYTE_COUNT	651358
+MERGE	TOTAL_MERGE	3417901000
+MERGE	READ_WRITE	3191787000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	315815612777
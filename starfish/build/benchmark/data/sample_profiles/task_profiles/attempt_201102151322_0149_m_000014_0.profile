@@ -0,0 +1,67 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt2/part-00009	0
+MAP	STARTUP_MEM	213638880
+MAP	SETUP	523000
+MAP	SETUP_MEM	213638880
+SPILL	SORT_AND_SPILL	26332662000
+SPILL	QUICK_SORT	18011764000
+SPILL	SORT_COUNT	5242880
+SPILL	COMBINE	7928224000
+SPILL	WRITE	817536000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7386791
+SPILL	COMPRESS_BYTE_COUNT	7386899
+SPILL	SORT_AND_SPILL	27931457000
+SPILL	QUICK_SORT	16057002000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	11539090000
+SPILL	WRITE	978967000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7330086
+SPILL	COMPRESS_BYTE_COUNT	7330194
+SPILL	SORT_AND_SPILL	28507661000
+SPILL	QUICK_SORT	18416332000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	9531530000
+SPILL	WRITE	931490000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7261096
+SPILL	COMPRESS_BYTE_COUNT	7261204
+MAP	CLEANUP	114000
+MAP	CLEANUP_MEM	212341088
+MAP	TOTAL_RUN	245965627000
+MAP	READ	2058451000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	231256
+MAP	VALUE_BYTE_COUNT	134192700
+MAP	MAP	243701365000
+MAP	WRITE	143723037000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	27116405000
+MAP	SERIALIZE_OUTPUT	55952296000
+MAP	MAP_MEM	212436448
+SPILL	SORT_AND_SPILL	18059460000
+SPILL	QUICK_SORT	11274949000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	6407386000
+SPILL	WRITE	743501000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7234484
+SPILL	COMPRESS_BYTE_COUNT	7234592
+SPILL	SORT_AND_SPILL	720279000
+SPILL	QUICK_SORT	198203000
+SPILL	SORT_COUNT	257706
+SPILL	COMBINE	511700000
+SPILL	WRITE	100577000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	747549
+SPILL	COMPRESS_BYTE_COUNT	747657
+MERGE	TOTAL_MERGE	3367878000
+MERGE	READ_WRITE	3315384000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	261002955000
@@ -0,0 +1,67 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt2/part-00010	0
+MAP	STARTUP_MEM	213666160
+MAP	SETUP	510000
+MAP	SETUP_MEM	213666160
+SPILL	SORT_AND_SPILL	24095662000
+SPILL	QUICK_SORT	12010077000
+SPILL	SORT_COUNT	5242880
+SPILL	COMBINE	11279759000
+SPILL	WRITE	1381569000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7237471
+SPILL	COMPRESS_BYTE_COUNT	7237579
+SPILL	SORT_AND_SPILL	24371735003
+SPILL	QUICK_SORT	11338838000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	12485607003
+SPILL	WRITE	1897581000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7247298
+SPILL	COMPRESS_BYTE_COUNT	7247406
+SPILL	SORT_AND_SPILL	24251555071
+SPILL	QUICK_SORT	11668504071
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	12137375000
+SPILL	WRITE	1275940000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7198595
+SPILL	COMPRESS_BYTE_COUNT	7198703
+MAP	CLEANUP	109000
+MAP	CLEANUP_MEM	213934224
+MAP	TOTAL_RUN	281929655472
+MAP	READ	2528882000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	250828
+MAP	VALUE_BYTE_COUNT	134192396
+MAP	MAP	279040111312
+MAP	WRITE	156300764215
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	28678486212
+MAP	SERIALIZE_OUTPUT	45632280003
+MAP	MAP_MEM	213934224
+SPILL	SORT_AND_SPILL	20784895000
+SPILL	QUICK_SORT	12192854000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	7824122000
+SPILL	WRITE	791300000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	6891081
+SPILL	COMPRESS_BYTE_COUNT	6891189
+SPILL	SORT_AND_SPILL	805087000
+SPILL	QUICK_SORT	218907000
+SPILL	SORT_COUNT	282067
+SPILL	COMBINE	574260000
+SPILL	WRITE	106118000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	779940
+SPILL	COMPRESS_BYTE_COUNT	780048
+MERGE	TOTAL_MERGE	3402701000
+MERGE	READ_WRITE	3185447000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	298836859472
@@ -0,0 +1,67 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt2/part-00011	0
+MAP	STARTUP_MEM	212786688
+MAP	SETUP	431000
+MAP	SETUP_MEM	212786688
+SPILL	SORT_AND_SPILL	31642067000
+SPILL	QUICK_SORT	24715369000
+SPILL	SORT_COUNT	5242880
+SPILL	COMBINE	6521539000
+SPILL	WRITE	744382000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	6800756
+SPILL	COMPRESS_BYTE_COUNT	6800864
+SPILL	SORT_AND_SPILL	27855370000
+SPILL	QUICK_SORT	13862531000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	12727439000
+SPILL	WRITE	882537000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7145908
+SPILL	COMPRESS_BYTE_COUNT	7146016
+SPILL	SORT_AND_SPILL	28834480000
+SPILL	QUICK_SORT	20436372000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	7966889000
+SPILL	WRITE	1152558000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7288901
+SPILL	COMPRESS_BYTE_COUNT	7289009
+MAP	CLEANUP	121000
+MAP	CLEANUP_MEM	212865584
+MAP	TOTAL_RUN	252420066000
+MAP	READ	2270964000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	264238
+MAP	VALUE_BYTE_COUNT	134190663
+MAP	MAP	250011702000
+MAP	WRITE	138562672000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	29161419000
+MAP	SERIALIZE_OUTPUT	54962968000
+MAP	MAP_MEM	212865584
+SPILL	SORT_AND_SPILL	20083132000
+SPILL	QUICK_SORT	11865292000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	7805593000
+SPILL	WRITE	1218806000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7113140
+SPILL	COMPRESS_BYTE_COUNT	7113248
+SPILL	SORT_AND_SPILL	972898000
+SPILL	QUICK_SORT	414743000
+SPILL	SORT_COUNT	277194
+SPILL	COMBINE	497581000
+SPILL	WRITE	82883000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	801813
+SPILL	COMPRESS_BYTE_COUNT	801921
+MERGE	TOTAL_MERGE	3593625000
+MERGE	READ_WRITE	3514356000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	269816282000
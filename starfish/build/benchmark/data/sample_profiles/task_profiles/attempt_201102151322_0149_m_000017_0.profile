@@ -0,0 +1,67 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt2/part-00012	0
+MAP	STARTUP_MEM	213621784
+MAP	SETUP	487000
+MAP	SETUP_MEM	213621784
+SPILL	SORT_AND_SPILL	30239632000
+SPILL	QUICK_SORT	14404986000
+SPILL	SORT_COUNT	5242880
+SPILL	COMBINE	15360495000
+SPILL	WRITE	1544177000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7458378
+SPILL	COMPRESS_BYTE_COUNT	7458486
+SPILL	SORT_AND_SPILL	31889221000
+SPILL	QUICK_SORT	16308495000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	13534106000
+SPILL	WRITE	2293365000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7299615
+SPILL	COMPRESS_BYTE_COUNT	7299723
+SPILL	SORT_AND_SPILL	22676206000
+SPILL	QUICK_SORT	11962257000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	9409274000
+SPILL	WRITE	1078947000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7338480
+SPILL	COMPRESS_BYTE_COUNT	7338588
+MAP	CLEANUP	110000
+MAP	CLEANUP_MEM	211181816
+MAP	TOTAL_RUN	253863468000
+MAP	READ	3525739000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	271165
+MAP	VALUE_BYTE_COUNT	134231241
+MAP	MAP	250086841000
+MAP	WRITE	145143321000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	26684846000
+MAP	SERIALIZE_OUTPUT	57450967000
+MAP	MAP_MEM	211341240
+SPILL	SORT_AND_SPILL	19420668000
+SPILL	QUICK_SORT	11450358000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	7488545000
+SPILL	WRITE	832094000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7288240
+SPILL	COMPRESS_BYTE_COUNT	7288348
+SPILL	SORT_AND_SPILL	665293000
+SPILL	QUICK_SORT	172717000
+SPILL	SORT_COUNT	242071
+SPILL	COMBINE	484087000
+SPILL	WRITE	98473000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	802105
+SPILL	COMPRESS_BYTE_COUNT	802213
+MERGE	TOTAL_MERGE	3752553000
+MERGE	READ_WRITE	3463365000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	272470845000
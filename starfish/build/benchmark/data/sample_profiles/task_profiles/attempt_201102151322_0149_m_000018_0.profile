@@ -0,0 +1,67 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt2/part-00013	0
+MAP	STARTUP_MEM	213611432
+MAP	SETUP	523000
+MAP	SETUP_MEM	213611432
+SPILL	SORT_AND_SPILL	25077130000
+SPILL	QUICK_SORT	11377416000
+SPILL	SORT_COUNT	5242880
+SPILL	COMBINE	11987284000
+SPILL	WRITE	2382202000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7302693
+SPILL	COMPRESS_BYTE_COUNT	7302801
+SPILL	SORT_AND_SPILL	33077008000
+SPILL	QUICK_SORT	22157742000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	10156115000
+SPILL	WRITE	754223000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7372061
+SPILL	COMPRESS_BYTE_COUNT	7372169
+SPILL	SORT_AND_SPILL	28875153000
+SPILL	QUICK_SORT	15303874000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	11898462000
+SPILL	WRITE	5325675000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7349283
+SPILL	COMPRESS_BYTE_COUNT	7349391
+MAP	CLEANUP	108000
+MAP	CLEANUP_MEM	212620912
+MAP	TOTAL_RUN	255241821000
+MAP	READ	4872828000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	278037
+MAP	VALUE_BYTE_COUNT	134189857
+MAP	MAP	250179968000
+MAP	WRITE	141504888000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	30212298000
+MAP	SERIALIZE_OUTPUT	48690569000
+MAP	MAP_MEM	212620912
+SPILL	SORT_AND_SPILL	18768100000
+SPILL	QUICK_SORT	9728970000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	8647941000
+SPILL	WRITE	852299000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7596674
+SPILL	COMPRESS_BYTE_COUNT	7596782
+SPILL	SORT_AND_SPILL	474479000
+SPILL	QUICK_SORT	121892000
+SPILL	SORT_COUNT	175818
+SPILL	COMBINE	342554000
+SPILL	WRITE	69482000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	565858
+SPILL	COMPRESS_BYTE_COUNT	565966
+MERGE	TOTAL_MERGE	5845192000
+MERGE	READ_WRITE	5780880000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	275852307000
@@ -0,0 +1,67 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt2/part-00014	0
+MAP	STARTUP_MEM	213612168
+MAP	SETUP	507000
+MAP	SETUP_MEM	213612168
+SPILL	SORT_AND_SPILL	31611606000
+SPILL	QUICK_SORT	18635269000
+SPILL	SORT_COUNT	5242880
+SPILL	COMBINE	11671624000
+SPILL	WRITE	1950706000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7307900
+SPILL	COMPRESS_BYTE_COUNT	7308008
+SPILL	SORT_AND_SPILL	29733648000
+SPILL	QUICK_SORT	16512429000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	11326779000
+SPILL	WRITE	2340858000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7276841
+SPILL	COMPRESS_BYTE_COUNT	7276949
+SPILL	SORT_AND_SPILL	31902993000
+SPILL	QUICK_SORT	20823438000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	9179291000
+SPILL	WRITE	863630000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7272660
+SPILL	COMPRESS_BYTE_COUNT	7272768
+MAP	CLEANUP	143000
+MAP	CLEANUP_MEM	213851216
+MAP	TOTAL_RUN	268367069096
+MAP	READ	3229860000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	286291
+MAP	VALUE_BYTE_COUNT	134185930
+MAP	MAP	264975468096
+MAP	WRITE	150155097096
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	27348376096
+MAP	SERIALIZE_OUTPUT	50262844000
+MAP	MAP_MEM	214010640
+SPILL	SORT_AND_SPILL	21075604000
+SPILL	QUICK_SORT	13535295000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	7167233000
+SPILL	WRITE	788191000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7199615
+SPILL	COMPRESS_BYTE_COUNT	7199723
+SPILL	SORT_AND_SPILL	854105000
+SPILL	QUICK_SORT	264864000
+SPILL	SORT_COUNT	299615
+SPILL	COMBINE	570480000
+SPILL	WRITE	91603000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	862530
+SPILL	COMPRESS_BYTE_COUNT	862638
+MERGE	TOTAL_MERGE	3775462000
+MERGE	READ_WRITE	3395866000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	283368942096
@@ -0,0 +1,67 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt2/part-00015	0
+MAP	STARTUP_MEM	213632720
+MAP	SETUP	500000
+MAP	SETUP_MEM	213632720
+SPILL	SORT_AND_SPILL	27003327000
+SPILL	QUICK_SORT	13663239000
+SPILL	SORT_COUNT	5242880
+SPILL	COMBINE	12296508000
+SPILL	WRITE	1271735000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7374241
+SPILL	COMPRESS_BYTE_COUNT	7374349
+SPILL	SORT_AND_SPILL	26756208000
+SPILL	QUICK_SORT	13292785000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	12618453000
+SPILL	WRITE	1913017000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7289101
+SPILL	COMPRESS_BYTE_COUNT	7289209
+SPILL	SORT_AND_SPILL	26590785000
+SPILL	QUICK_SORT	13686053000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	12519053000
+SPILL	WRITE	1413192000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7354530
+SPILL	COMPRESS_BYTE_COUNT	7354638
+MAP	CLEANUP	133000
+MAP	CLEANUP_MEM	212066440
+MAP	TOTAL_RUN	285945160883
+MAP	READ	2656064000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	307031
+MAP	VALUE_BYTE_COUNT	134198588
+MAP	MAP	282952284883
+MAP	WRITE	168247109032
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	32581895000
+MAP	SERIALIZE_OUTPUT	48966013000
+MAP	MAP_MEM	212156432
+SPILL	SORT_AND_SPILL	18915808925
+SPILL	QUICK_SORT	10322006000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	8020978925
+SPILL	WRITE	954412000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7263735
+SPILL	COMPRESS_BYTE_COUNT	7263843
+SPILL	SORT_AND_SPILL	1028079000
+SPILL	QUICK_SORT	223609000
+SPILL	SORT_COUNT	319855
+SPILL	COMBINE	789463000
+SPILL	WRITE	106954000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	874123
+SPILL	COMPRESS_BYTE_COUNT	874231
+MERGE	TOTAL_MERGE	3776544000
+MERGE	READ_WRITE	3672640000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	305841066808
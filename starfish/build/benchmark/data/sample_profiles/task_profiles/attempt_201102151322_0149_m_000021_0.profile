@@ -0,0 +1,67 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt2/part-00016	0
+MAP	STARTUP_MEM	212777512
+MAP	SETUP	428000
+MAP	SETUP_MEM	212777512
+SPILL	SORT_AND_SPILL	25913506000
+SPILL	QUICK_SORT	14464635000
+SPILL	SORT_COUNT	5242880
+SPILL	COMBINE	11006854000
+SPILL	WRITE	3526230000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7232705
+SPILL	COMPRESS_BYTE_COUNT	7232813
+SPILL	SORT_AND_SPILL	27982359000
+SPILL	QUICK_SORT	14782976000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	12848613000
+SPILL	WRITE	3535562000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7367353
+SPILL	COMPRESS_BYTE_COUNT	7367461
+SPILL	SORT_AND_SPILL	32057731000
+SPILL	QUICK_SORT	12330534000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	16879510000
+SPILL	WRITE	1324528000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7471393
+SPILL	COMPRESS_BYTE_COUNT	7471501
+MAP	CLEANUP	113000
+MAP	CLEANUP_MEM	215571776
+MAP	TOTAL_RUN	263221729000
+MAP	READ	3144351000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	330209
+MAP	VALUE_BYTE_COUNT	134177570
+MAP	MAP	259890754000
+MAP	WRITE	154024501000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	25150080000
+MAP	SERIALIZE_OUTPUT	58299732000
+MAP	MAP_MEM	215571776
+SPILL	SORT_AND_SPILL	18958135000
+SPILL	QUICK_SORT	11904647000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	6679477000
+SPILL	WRITE	765270000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7282396
+SPILL	COMPRESS_BYTE_COUNT	7282504
+SPILL	SORT_AND_SPILL	921312000
+SPILL	QUICK_SORT	269170000
+SPILL	SORT_COUNT	389803
+SPILL	COMBINE	634630000
+SPILL	WRITE	123240000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	913620
+SPILL	COMPRESS_BYTE_COUNT	913728
+MERGE	TOTAL_MERGE	5780545000
+MERGE	READ_WRITE	5407428000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	283839460000
@@ -0,0 +1,67 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt2/part-00017	0
+MAP	STARTUP_MEM	213662640
+MAP	SETUP	530000
+MAP	SETUP_MEM	213662640
+SPILL	SORT_AND_SPILL	24255857000
+SPILL	QUICK_SORT	12161678000
+SPILL	SORT_COUNT	5242880
+SPILL	COMBINE	11431518000
+SPILL	WRITE	1329613000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7443393
+SPILL	COMPRESS_BYTE_COUNT	7443501
+SPILL	SORT_AND_SPILL	24247203000
+SPILL	QUICK_SORT	12515245000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	11301773000
+SPILL	WRITE	1289375000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7259607
+SPILL	COMPRESS_BYTE_COUNT	7259715
+SPILL	SORT_AND_SPILL	23558220000
+SPILL	QUICK_SORT	11783288000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	10827325000
+SPILL	WRITE	1383221000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7174865
+SPILL	COMPRESS_BYTE_COUNT	7174973
+MAP	CLEANUP	103000
+MAP	CLEANUP_MEM	212074072
+MAP	TOTAL_RUN	281252277883
+MAP	READ	4127332000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	359385
+MAP	VALUE_BYTE_COUNT	134175337
+MAP	MAP	276610223883
+MAP	WRITE	158426483000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	31749605000
+MAP	SERIALIZE_OUTPUT	47835645000
+MAP	MAP_MEM	212327112
+SPILL	SORT_AND_SPILL	25010668925
+SPILL	QUICK_SORT	16734891000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	7911529925
+SPILL	WRITE	1043670000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7419202
+SPILL	COMPRESS_BYTE_COUNT	7419310
+SPILL	SORT_AND_SPILL	972856000
+SPILL	QUICK_SORT	213440000
+SPILL	SORT_COUNT	302585
+SPILL	COMBINE	746109000
+SPILL	WRITE	107146000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	892694
+SPILL	COMPRESS_BYTE_COUNT	892802
+MERGE	TOTAL_MERGE	3357302000
+MERGE	READ_WRITE	3280950000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	301199369808
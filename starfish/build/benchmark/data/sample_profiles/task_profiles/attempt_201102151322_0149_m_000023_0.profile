@@ -0,0 +1,67 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt2/part-00018	0
+MAP	STARTUP_MEM	212783120
+MAP	SETUP	472000
+MAP	SETUP_MEM	212783120
+SPILL	SORT_AND_SPILL	31915205000
+SPILL	QUICK_SORT	20245652000
+SPILL	SORT_COUNT	5242880
+SPILL	COMBINE	11273059000
+SPILL	WRITE	912509000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7301385
+SPILL	COMPRESS_BYTE_COUNT	7301493
+SPILL	SORT_AND_SPILL	30709476000
+SPILL	QUICK_SORT	16405977000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	12064644000
+SPILL	WRITE	880418000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7319569
+SPILL	COMPRESS_BYTE_COUNT	7319677
+SPILL	SORT_AND_SPILL	27406806000
+SPILL	QUICK_SORT	13300533000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	13656158000
+SPILL	WRITE	989958000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7274484
+SPILL	COMPRESS_BYTE_COUNT	7274592
+MAP	CLEANUP	141000
+MAP	CLEANUP_MEM	212212312
+MAP	TOTAL_RUN	260229529096
+MAP	READ	3173718000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	355503
+MAP	VALUE_BYTE_COUNT	134174506
+MAP	MAP	255778046096
+MAP	WRITE	142359565000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	26646185000
+MAP	SERIALIZE_OUTPUT	58343375000
+MAP	MAP_MEM	212212312
+SPILL	SORT_AND_SPILL	22489134000
+SPILL	QUICK_SORT	13721691000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	8362430000
+SPILL	WRITE	1193998000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7830165
+SPILL	COMPRESS_BYTE_COUNT	7830273
+SPILL	SORT_AND_SPILL	876601000
+SPILL	QUICK_SORT	271384000
+SPILL	SORT_COUNT	303983
+SPILL	COMBINE	585426000
+SPILL	WRITE	111994000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	859614
+SPILL	COMPRESS_BYTE_COUNT	859722
+MERGE	TOTAL_MERGE	3504062000
+MERGE	READ_WRITE	3404818000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	278900657096
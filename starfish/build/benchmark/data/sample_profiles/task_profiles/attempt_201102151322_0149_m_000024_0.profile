@@ -0,0 +1,67 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt2/part-00019	0
+MAP	STARTUP_MEM	213621600
+MAP	SETUP	504000
+MAP	SETUP_MEM	213621600
+SPILL	SORT_AND_SPILL	26191828000
+SPILL	QUICK_SORT	14276539000
+SPILL	SORT_COUNT	5242880
+SPILL	COMBINE	9882324000
+SPILL	WRITE	853947000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	8146577
+SPILL	COMPRESS_BYTE_COUNT	8146685
+SPILL	SORT_AND_SPILL	29216587000
+SPILL	QUICK_SORT	17024081000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	11664601000
+SPILL	WRITE	2524322000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7340170
+SPILL	COMPRESS_BYTE_COUNT	7340278
+SPILL	SORT_AND_SPILL	28610218242
+SPILL	QUICK_SORT	15937339242
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	11517433000
+SPILL	WRITE	4300613000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7335159
+SPILL	COMPRESS_BYTE_COUNT	7335267
+MAP	CLEANUP	98000
+MAP	CLEANUP_MEM	212271464
+MAP	TOTAL_RUN	254292194242
+MAP	READ	3627038000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	351883
+MAP	VALUE_BYTE_COUNT	134177900
+MAP	MAP	249449583242
+MAP	WRITE	146334398000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	31341666000
+MAP	SERIALIZE_OUTPUT	49843936000
+MAP	MAP_MEM	212271464
+SPILL	SORT_AND_SPILL	19603294000
+SPILL	QUICK_SORT	11327531000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	7869270000
+SPILL	WRITE	847436000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7255818
+SPILL	COMPRESS_BYTE_COUNT	7255926
+SPILL	SORT_AND_SPILL	718927000
+SPILL	QUICK_SORT	196514000
+SPILL	SORT_COUNT	244449
+SPILL	COMBINE	509441000
+SPILL	WRITE	76001000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	701541
+SPILL	COMPRESS_BYTE_COUNT	701649
+MERGE	TOTAL_MERGE	4665855000
+MERGE	READ_WRITE	4610689000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	271394657242
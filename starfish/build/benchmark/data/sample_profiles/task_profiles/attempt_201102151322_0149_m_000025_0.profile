@@ -0,0 +1,67 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt2/part-00020	0
+MAP	STARTUP_MEM	213609976
+MAP	SETUP	510000
+MAP	SETUP_MEM	213609976
+SPILL	SORT_AND_SPILL	29889639000
+SPILL	QUICK_SORT	19605248000
+SPILL	SORT_COUNT	5242880
+SPILL	COMBINE	9787577000
+SPILL	WRITE	754514000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7305989
+SPILL	COMPRESS_BYTE_COUNT	7306097
+SPILL	SORT_AND_SPILL	28859419000
+SPILL	QUICK_SORT	19428064000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	8898248000
+SPILL	WRITE	1257722000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7290006
+SPILL	COMPRESS_BYTE_COUNT	7290114
+SPILL	SORT_AND_SPILL	26366634000
+SPILL	QUICK_SORT	14662327000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	9903258000
+SPILL	WRITE	1567941000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7376822
+SPILL	COMPRESS_BYTE_COUNT	7376930
+MAP	CLEANUP	111000
+MAP	CLEANUP_MEM	213600600
+MAP	TOTAL_RUN	254447887016
+MAP	READ	4529302000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	373298
+MAP	VALUE_BYTE_COUNT	134173139
+MAP	MAP	249744292016
+MAP	WRITE	145535096016
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	24223351000
+MAP	SERIALIZE_OUTPUT	55710390016
+MAP	MAP_MEM	213600600
+SPILL	SORT_AND_SPILL	19764606000
+SPILL	QUICK_SORT	12753378000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	6642976000
+SPILL	WRITE	774970000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7302504
+SPILL	COMPRESS_BYTE_COUNT	7302612
+SPILL	SORT_AND_SPILL	662065000
+SPILL	QUICK_SORT	191321000
+SPILL	SORT_COUNT	261702
+SPILL	COMBINE	460434000
+SPILL	WRITE	80112000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	761205
+SPILL	COMPRESS_BYTE_COUNT	761313
+MERGE	TOTAL_MERGE	3696695000
+MERGE	READ_WRITE	3425757000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	272942859016
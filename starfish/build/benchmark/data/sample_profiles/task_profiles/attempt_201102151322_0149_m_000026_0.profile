@@ -0,0 +1,67 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt2/part-00021	0
+MAP	STARTUP_MEM	212774152
+MAP	SETUP	444000
+MAP	SETUP_MEM	212774152
+SPILL	SORT_AND_SPILL	26388630000
+SPILL	QUICK_SORT	15262488000
+SPILL	SORT_COUNT	5242880
+SPILL	COMBINE	10693749000
+SPILL	WRITE	3995733000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7423757
+SPILL	COMPRESS_BYTE_COUNT	7423865
+SPILL	SORT_AND_SPILL	28718449000
+SPILL	QUICK_SORT	14471165000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	13855762000
+SPILL	WRITE	2179156000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7569217
+SPILL	COMPRESS_BYTE_COUNT	7569325
+SPILL	SORT_AND_SPILL	29795132000
+SPILL	QUICK_SORT	17893312000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	11542547000
+SPILL	WRITE	3601343000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7383416
+SPILL	COMPRESS_BYTE_COUNT	7383524
+MAP	CLEANUP	112000
+MAP	CLEANUP_MEM	211781704
+MAP	TOTAL_RUN	256326175016
+MAP	READ	4082638000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	373906
+MAP	VALUE_BYTE_COUNT	134176146
+MAP	MAP	252061585016
+MAP	WRITE	144963980000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	27851171000
+MAP	SERIALIZE_OUTPUT	47732471000
+MAP	MAP_MEM	212031984
+SPILL	SORT_AND_SPILL	17895012000
+SPILL	QUICK_SORT	10792192000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	6780444000
+SPILL	WRITE	782607000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7291364
+SPILL	COMPRESS_BYTE_COUNT	7291472
+SPILL	SORT_AND_SPILL	680042000
+SPILL	QUICK_SORT	153860000
+SPILL	SORT_COUNT	208810
+SPILL	COMBINE	484292000
+SPILL	WRITE	84976000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	655210
+SPILL	COMPRESS_BYTE_COUNT	655318
+MERGE	TOTAL_MERGE	3440013000
+MERGE	READ_WRITE	3384256000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	273747703016
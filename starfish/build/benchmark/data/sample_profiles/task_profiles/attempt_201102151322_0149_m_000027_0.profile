@@ -0,0 +1,67 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt2/part-00022	0
+MAP	STARTUP_MEM	213641776
+MAP	SETUP	549000
+MAP	SETUP_MEM	213641776
+SPILL	SORT_AND_SPILL	25048579000
+SPILL	QUICK_SORT	13261985000
+SPILL	SORT_COUNT	5242880
+SPILL	COMBINE	11173440000
+SPILL	WRITE	1174431000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7329129
+SPILL	COMPRESS_BYTE_COUNT	7329237
+SPILL	SORT_AND_SPILL	26566166000
+SPILL	QUICK_SORT	14519641000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	11416381000
+SPILL	WRITE	1966428000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7330322
+SPILL	COMPRESS_BYTE_COUNT	7330430
+SPILL	SORT_AND_SPILL	33764760770
+SPILL	QUICK_SORT	21991209770
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	11383921000
+SPILL	WRITE	1268948000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7252805
+SPILL	COMPRESS_BYTE_COUNT	7252913
+MAP	CLEANUP	113000
+MAP	CLEANUP_MEM	210981448
+MAP	TOTAL_RUN	295213809777
+MAP	READ	2445135000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	375816
+MAP	VALUE_BYTE_COUNT	134173198
+MAP	MAP	292331018777
+MAP	WRITE	166266767692
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	33829284000
+MAP	SERIALIZE_OUTPUT	52131806692
+MAP	MAP_MEM	210981448
+SPILL	SORT_AND_SPILL	20548852000
+SPILL	QUICK_SORT	11976999000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	8171275000
+SPILL	WRITE	1117016000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7486615
+SPILL	COMPRESS_BYTE_COUNT	7486723
+SPILL	SORT_AND_SPILL	701811000
+SPILL	QUICK_SORT	187992000
+SPILL	SORT_COUNT	206582
+SPILL	COMBINE	503225000
+SPILL	WRITE	82634000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	639641
+SPILL	COMPRESS_BYTE_COUNT	639749
+MERGE	TOTAL_MERGE	3693392000
+MERGE	READ_WRITE	3332102000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	313636311777
@@ -0,0 +1,67 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt2/part-00023	0
+MAP	STARTUP_MEM	213629576
+MAP	SETUP	512000
+MAP	SETUP_MEM	213629576
+SPILL	SORT_AND_SPILL	29765094000
+SPILL	QUICK_SORT	17408809000
+SPILL	SORT_COUNT	5242880
+SPILL	COMBINE	11888077000
+SPILL	WRITE	2374102000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7172091
+SPILL	COMPRESS_BYTE_COUNT	7172199
+SPILL	SORT_AND_SPILL	30454225000
+SPILL	QUICK_SORT	17738153000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	10795257000
+SPILL	WRITE	2661933000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7287366
+SPILL	COMPRESS_BYTE_COUNT	7287474
+SPILL	SORT_AND_SPILL	27874258000
+SPILL	QUICK_SORT	16844283000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	10456655000
+SPILL	WRITE	751759000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7061265
+SPILL	COMPRESS_BYTE_COUNT	7061373
+MAP	CLEANUP	113000
+MAP	CLEANUP_MEM	214483288
+MAP	TOTAL_RUN	255881601000
+MAP	READ	3151733000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	382501
+MAP	VALUE_BYTE_COUNT	134175218
+MAP	MAP	252542560000
+MAP	WRITE	147085609000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	25738803000
+MAP	SERIALIZE_OUTPUT	59659999000
+MAP	MAP_MEM	214580584
+SPILL	SORT_AND_SPILL	19211610000
+SPILL	QUICK_SORT	11156209000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	7575276000
+SPILL	WRITE	845362000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	6996783
+SPILL	COMPRESS_BYTE_COUNT	6996891
+SPILL	SORT_AND_SPILL	933390000
+SPILL	QUICK_SORT	263732000
+SPILL	SORT_COUNT	348748
+SPILL	COMBINE	623870000
+SPILL	WRITE	131853000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	927348
+SPILL	COMPRESS_BYTE_COUNT	927456
+MERGE	TOTAL_MERGE	3435132000
+MERGE	READ_WRITE	3171540000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	275186362000
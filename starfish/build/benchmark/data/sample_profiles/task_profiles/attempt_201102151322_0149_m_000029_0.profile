@@ -0,0 +1,67 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt2/part-00024	0
+MAP	STARTUP_MEM	213611464
+MAP	SETUP	470000
+MAP	SETUP_MEM	213611464
+SPILL	SORT_AND_SPILL	28131848000
+SPILL	QUICK_SORT	12068721000
+SPILL	SORT_COUNT	5242880
+SPILL	COMBINE	13347196000
+SPILL	WRITE	1321569000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7356945
+SPILL	COMPRESS_BYTE_COUNT	7357053
+SPILL	SORT_AND_SPILL	27996220000
+SPILL	QUICK_SORT	14620956000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	12862522000
+SPILL	WRITE	895489000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7450751
+SPILL	COMPRESS_BYTE_COUNT	7450859
+SPILL	SORT_AND_SPILL	29512503000
+SPILL	QUICK_SORT	19900929000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	9218322000
+SPILL	WRITE	1079617000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7589502
+SPILL	COMPRESS_BYTE_COUNT	7589610
+MAP	CLEANUP	111000
+MAP	CLEANUP_MEM	213612232
+MAP	TOTAL_RUN	264088150000
+MAP	READ	3228694000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	392753
+MAP	VALUE_BYTE_COUNT	134170442
+MAP	MAP	260656228000
+MAP	WRITE	151965869000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	26420300000
+MAP	SERIALIZE_OUTPUT	61404364000
+MAP	MAP_MEM	213612232
+SPILL	SORT_AND_SPILL	17648583000
+SPILL	QUICK_SORT	9881640000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	7205105000
+SPILL	WRITE	863929000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7902672
+SPILL	COMPRESS_BYTE_COUNT	7902780
+SPILL	SORT_AND_SPILL	622528000
+SPILL	QUICK_SORT	160655000
+SPILL	SORT_COUNT	243475
+SPILL	COMBINE	453048000
+SPILL	WRITE	79016000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	751516
+SPILL	COMPRESS_BYTE_COUNT	751624
+MERGE	TOTAL_MERGE	3596913000
+MERGE	READ_WRITE	3354514000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	276695804000
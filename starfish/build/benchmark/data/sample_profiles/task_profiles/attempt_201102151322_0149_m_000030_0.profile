@@ -0,0 +1,67 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt2/part-00031	0
+MAP	STARTUP_MEM	212768960
+MAP	SETUP	434000
+MAP	SETUP_MEM	212768960
+SPILL	SORT_AND_SPILL	26713576000
+SPILL	QUICK_SORT	14340382000
+SPILL	SORT_COUNT	5242880
+SPILL	COMBINE	9536204000
+SPILL	WRITE	927994000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7248077
+SPILL	COMPRESS_BYTE_COUNT	7248185
+SPILL	SORT_AND_SPILL	28438231000
+SPILL	QUICK_SORT	12248955000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	15769754000
+SPILL	WRITE	1346271000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7489251
+SPILL	COMPRESS_BYTE_COUNT	7489359
+SPILL	SORT_AND_SPILL	26681829000
+SPILL	QUICK_SORT	18860116000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	7433204000
+SPILL	WRITE	990042000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7273909
+SPILL	COMPRESS_BYTE_COUNT	7274017
+MAP	CLEANUP	100000
+MAP	CLEANUP_MEM	213836152
+MAP	TOTAL_RUN	252449777000
+MAP	READ	3561345000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	427193
+MAP	VALUE_BYTE_COUNT	132081001
+MAP	MAP	248681763000
+MAP	WRITE	142121306000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	24142782000
+MAP	SERIALIZE_OUTPUT	57541490000
+MAP	MAP_MEM	213924328
+SPILL	SORT_AND_SPILL	17089006000
+SPILL	QUICK_SORT	9830647000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	6880833000
+SPILL	WRITE	796444000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7493743
+SPILL	COMPRESS_BYTE_COUNT	7493851
+SPILL	SORT_AND_SPILL	335150000
+SPILL	QUICK_SORT	79390000
+SPILL	SORT_COUNT	115330
+SPILL	COMBINE	251175000
+SPILL	WRITE	57026000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	390022
+SPILL	COMPRESS_BYTE_COUNT	390130
+MERGE	TOTAL_MERGE	3464345000
+MERGE	READ_WRITE	3236809000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	269592638000
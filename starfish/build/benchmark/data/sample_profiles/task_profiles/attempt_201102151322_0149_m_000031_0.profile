@@ -0,0 +1,59 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt2/part-00032	0
+MAP	STARTUP_MEM	213623832
+MAP	SETUP	480000
+MAP	SETUP_MEM	213623832
+SPILL	SORT_AND_SPILL	25872521000
+SPILL	QUICK_SORT	14159652000
+SPILL	SORT_COUNT	5242880
+SPILL	COMBINE	11288778000
+SPILL	WRITE	821248000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7474364
+SPILL	COMPRESS_BYTE_COUNT	7474472
+SPILL	SORT_AND_SPILL	28267011000
+SPILL	QUICK_SORT	14190445000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	13513094000
+SPILL	WRITE	855697000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7616410
+SPILL	COMPRESS_BYTE_COUNT	7616518
+SPILL	SORT_AND_SPILL	28669204000
+SPILL	QUICK_SORT	15831233000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	10919114000
+SPILL	WRITE	1080150000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7211896
+SPILL	COMPRESS_BYTE_COUNT	7212004
+MAP	CLEANUP	86000
+MAP	CLEANUP_MEM	211174136
+MAP	TOTAL_RUN	235793352000
+MAP	READ	5208340000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	418982
+MAP	VALUE_BYTE_COUNT	128015016
+MAP	MAP	230336759000
+MAP	WRITE	134641869000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	23003204000
+MAP	SERIALIZE_OUTPUT	53438251000
+MAP	MAP_MEM	211174136
+SPILL	SORT_AND_SPILL	13268438000
+SPILL	QUICK_SORT	7293083000
+SPILL	SORT_COUNT	4502983
+SPILL	COMBINE	5711675000
+SPILL	WRITE	720332000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	6570342
+SPILL	COMPRESS_BYTE_COUNT	6570450
+MERGE	TOTAL_MERGE	3120539000
+MERGE	READ_WRITE	3057300000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	252714297000
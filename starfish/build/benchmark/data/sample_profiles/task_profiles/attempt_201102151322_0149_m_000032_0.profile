@@ -0,0 +1,59 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt2/part-00030	0
+MAP	STARTUP_MEM	212772728
+MAP	SETUP	437000
+MAP	SETUP_MEM	212772728
+SPILL	SORT_AND_SPILL	23174045000
+SPILL	QUICK_SORT	14105586000
+SPILL	SORT_COUNT	5242880
+SPILL	COMBINE	8712360000
+SPILL	WRITE	800208000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7293690
+SPILL	COMPRESS_BYTE_COUNT	7293798
+SPILL	SORT_AND_SPILL	29477735000
+SPILL	QUICK_SORT	18508671000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	10499846000
+SPILL	WRITE	1332157000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7299897
+SPILL	COMPRESS_BYTE_COUNT	7300005
+SPILL	SORT_AND_SPILL	30810042000
+SPILL	QUICK_SORT	22103395000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	7245656000
+SPILL	WRITE	916539000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7398032
+SPILL	COMPRESS_BYTE_COUNT	7398140
+MAP	CLEANUP	94000
+MAP	CLEANUP_MEM	215112928
+MAP	TOTAL_RUN	235105037000
+MAP	READ	1957839000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	402133
+MAP	VALUE_BYTE_COUNT	124781971
+MAP	MAP	232746891000
+MAP	WRITE	126375123000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	24566981000
+MAP	SERIALIZE_OUTPUT	50899862000
+MAP	MAP_MEM	215272352
+SPILL	SORT_AND_SPILL	11887944000
+SPILL	QUICK_SORT	6419493000
+SPILL	SORT_COUNT	4005845
+SPILL	COMBINE	5183851000
+SPILL	WRITE	669264000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	5976962
+SPILL	COMPRESS_BYTE_COUNT	5977070
+MERGE	TOTAL_MERGE	3287131000
+MERGE	READ_WRITE	3001594000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	250727694000
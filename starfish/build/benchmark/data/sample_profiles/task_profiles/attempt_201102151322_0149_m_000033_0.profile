@@ -0,0 +1,59 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt2/part-00033	0
+MAP	STARTUP_MEM	213666736
+MAP	SETUP	511000
+MAP	SETUP_MEM	213666736
+SPILL	SORT_AND_SPILL	30576247026
+SPILL	QUICK_SORT	19019557000
+SPILL	SORT_COUNT	5242880
+SPILL	COMBINE	10505232026
+SPILL	WRITE	1513654000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7143546
+SPILL	COMPRESS_BYTE_COUNT	7143654
+SPILL	SORT_AND_SPILL	25897821003
+SPILL	QUICK_SORT	13270029000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	12184846003
+SPILL	WRITE	1121971000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7311474
+SPILL	COMPRESS_BYTE_COUNT	7311582
+SPILL	SORT_AND_SPILL	27315921071
+SPILL	QUICK_SORT	13277812071
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	12913761000
+SPILL	WRITE	1224353000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7402080
+SPILL	COMPRESS_BYTE_COUNT	7402188
+MAP	CLEANUP	94000
+MAP	CLEANUP_MEM	215278600
+MAP	TOTAL_RUN	257852276260
+MAP	READ	2494639000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	418378
+MAP	VALUE_BYTE_COUNT	122907588
+MAP	MAP	255056281260
+MAP	WRITE	150833663260
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	30269571000
+MAP	SERIALIZE_OUTPUT	49622628100
+MAP	MAP_MEM	215278600
+SPILL	SORT_AND_SPILL	13802130212
+SPILL	QUICK_SORT	7137850212
+SPILL	SORT_COUNT	3673005
+SPILL	COMBINE	6385471000
+SPILL	WRITE	697598000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	5669663
+SPILL	COMPRESS_BYTE_COUNT	5669771
+MERGE	TOTAL_MERGE	6905666000
+MERGE	READ_WRITE	6224744000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	279810919472
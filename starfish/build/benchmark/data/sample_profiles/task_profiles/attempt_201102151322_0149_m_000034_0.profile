@@ -0,0 +1,59 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt2/part-00035	0
+MAP	STARTUP_MEM	213599144
+MAP	SETUP	552000
+MAP	SETUP_MEM	213599144
+SPILL	SORT_AND_SPILL	26446746000
+SPILL	QUICK_SORT	15432430000
+SPILL	SORT_COUNT	5242880
+SPILL	COMBINE	10565205000
+SPILL	WRITE	2702234000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7084272
+SPILL	COMPRESS_BYTE_COUNT	7084380
+SPILL	SORT_AND_SPILL	29357832000
+SPILL	QUICK_SORT	19503046000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	9461072000
+SPILL	WRITE	726777000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	6669629
+SPILL	COMPRESS_BYTE_COUNT	6669737
+SPILL	SORT_AND_SPILL	32682172000
+SPILL	QUICK_SORT	16021881000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	14564762000
+SPILL	WRITE	4342203000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7224502
+SPILL	COMPRESS_BYTE_COUNT	7224610
+MAP	CLEANUP	97000
+MAP	CLEANUP_MEM	215444248
+MAP	TOTAL_RUN	239863802000
+MAP	READ	2237441000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	386627
+MAP	VALUE_BYTE_COUNT	121196050
+MAP	MAP	237384871000
+MAP	WRITE	131941199000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	27376365000
+MAP	SERIALIZE_OUTPUT	47215509000
+MAP	MAP_MEM	215444248
+SPILL	SORT_AND_SPILL	14529885000
+SPILL	QUICK_SORT	5489368000
+SPILL	SORT_COUNT	3250625
+SPILL	COMBINE	8614227000
+SPILL	WRITE	604018000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	5191151
+SPILL	COMPRESS_BYTE_COUNT	5191259
+MERGE	TOTAL_MERGE	2984140000
+MERGE	READ_WRITE	2935086000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	258610876000
@@ -0,0 +1,59 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt2/part-00034	0
+MAP	STARTUP_MEM	213621848
+MAP	SETUP	483000
+MAP	SETUP_MEM	213621848
+SPILL	SORT_AND_SPILL	27882734000
+SPILL	QUICK_SORT	14365624000
+SPILL	SORT_COUNT	5242880
+SPILL	COMBINE	11492546000
+SPILL	WRITE	886319000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7444747
+SPILL	COMPRESS_BYTE_COUNT	7444855
+SPILL	SORT_AND_SPILL	28397781000
+SPILL	QUICK_SORT	16930485000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	11094641000
+SPILL	WRITE	3404663000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7573242
+SPILL	COMPRESS_BYTE_COUNT	7573350
+SPILL	SORT_AND_SPILL	28299323000
+SPILL	QUICK_SORT	17380186000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	10602758000
+SPILL	WRITE	905808000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7551810
+SPILL	COMPRESS_BYTE_COUNT	7551918
+MAP	CLEANUP	84000
+MAP	CLEANUP_MEM	211628480
+MAP	TOTAL_RUN	221282169000
+MAP	READ	3782437000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	411981
+MAP	VALUE_BYTE_COUNT	119672367
+MAP	MAP	217265744000
+MAP	WRITE	122186828000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	25407976000
+MAP	SERIALIZE_OUTPUT	45240414000
+MAP	MAP_MEM	211628480
+SPILL	SORT_AND_SPILL	10480481321
+SPILL	QUICK_SORT	4730197000
+SPILL	SORT_COUNT	3121262
+SPILL	COMBINE	5546204321
+SPILL	WRITE	635801000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	4930122
+SPILL	COMPRESS_BYTE_COUNT	4930230
+MERGE	TOTAL_MERGE	3150982000
+MERGE	READ_WRITE	2915758000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	235388803321
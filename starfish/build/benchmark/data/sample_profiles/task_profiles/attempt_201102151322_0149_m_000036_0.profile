@@ -0,0 +1,59 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt2/part-00036	0
+MAP	STARTUP_MEM	213627872
+MAP	SETUP	536000
+MAP	SETUP_MEM	213627872
+SPILL	SORT_AND_SPILL	37761125601
+SPILL	QUICK_SORT	24363645601
+SPILL	SORT_COUNT	5242880
+SPILL	COMBINE	12562112000
+SPILL	WRITE	1776763000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7087080
+SPILL	COMPRESS_BYTE_COUNT	7087188
+SPILL	SORT_AND_SPILL	29331562000
+SPILL	QUICK_SORT	15927803000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	12673445000
+SPILL	WRITE	1005505000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	6996911
+SPILL	COMPRESS_BYTE_COUNT	6997019
+SPILL	SORT_AND_SPILL	29970462602
+SPILL	QUICK_SORT	17034646000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	12137192602
+SPILL	WRITE	1275628000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7363185
+SPILL	COMPRESS_BYTE_COUNT	7363293
+MAP	CLEANUP	99000
+MAP	CLEANUP_MEM	215282768
+MAP	TOTAL_RUN	279451032008
+MAP	READ	2987698000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	540849
+MAP	VALUE_BYTE_COUNT	117292545
+MAP	MAP	274924007008
+MAP	WRITE	158312497601
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	27741359000
+MAP	SERIALIZE_OUTPUT	62831650000
+MAP	MAP_MEM	215378792
+SPILL	SORT_AND_SPILL	12894485000
+SPILL	QUICK_SORT	4631461000
+SPILL	SORT_COUNT	2718147
+SPILL	COMBINE	7834137000
+SPILL	WRITE	940004000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	4472641
+SPILL	COMPRESS_BYTE_COUNT	4472749
+MERGE	TOTAL_MERGE	7264225000
+MERGE	READ_WRITE	7204783000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	300237566008
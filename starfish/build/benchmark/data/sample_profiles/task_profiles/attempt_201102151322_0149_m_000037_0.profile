@@ -0,0 +1,59 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt2/part-00000	0
+MAP	STARTUP_MEM	213635528
+MAP	SETUP	507000
+MAP	SETUP_MEM	213635528
+SPILL	SORT_AND_SPILL	29249520000
+SPILL	QUICK_SORT	13397514000
+SPILL	SORT_COUNT	5242880
+SPILL	COMBINE	15405094000
+SPILL	WRITE	3911310000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	6919931
+SPILL	COMPRESS_BYTE_COUNT	6920039
+SPILL	SORT_AND_SPILL	31170697330
+SPILL	QUICK_SORT	18092531330
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	12653331000
+SPILL	WRITE	940912000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	6988112
+SPILL	COMPRESS_BYTE_COUNT	6988220
+MAP	CLEANUP	48000
+MAP	CLEANUP_MEM	215622952
+MAP	TOTAL_RUN	209855929330
+MAP	READ	2649706000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	59058
+MAP	VALUE_BYTE_COUNT	108553416
+MAP	MAP	207153704330
+MAP	WRITE	120508907330
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	22874655000
+MAP	SERIALIZE_OUTPUT	38965889000
+MAP	MAP_MEM	215622952
+SPILL	SORT_AND_SPILL	27596395000
+SPILL	QUICK_SORT	20452738000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	6688484000
+SPILL	WRITE	697655000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	6725452
+SPILL	COMPRESS_BYTE_COUNT	6725560
+SPILL	SORT_AND_SPILL	3562895000
+SPILL	QUICK_SORT	1794500000
+SPILL	SORT_COUNT	1217663
+SPILL	COMBINE	1692714000
+SPILL	WRITE	222588000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	2252720
+SPILL	COMPRESS_BYTE_COUNT	2252828
+MERGE	TOTAL_MERGE	2814906000
+MERGE	READ_WRITE	2537568000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	223384553330
@@ -0,0 +1,59 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt2/part-00038	0
+MAP	STARTUP_MEM	212784024
+MAP	SETUP	437000
+MAP	SETUP_MEM	212784024
+SPILL	SORT_AND_SPILL	30105463000
+SPILL	QUICK_SORT	15450475000
+SPILL	SORT_COUNT	5242880
+SPILL	COMBINE	12241276000
+SPILL	WRITE	4362427000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	6974362
+SPILL	COMPRESS_BYTE_COUNT	6974470
+SPILL	SORT_AND_SPILL	28340954330
+SPILL	QUICK_SORT	15902027330
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	12078267000
+SPILL	WRITE	912983000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	6828863
+SPILL	COMPRESS_BYTE_COUNT	6828971
+MAP	CLEANUP	103000
+MAP	CLEANUP_MEM	210470720
+MAP	TOTAL_RUN	201702694330
+MAP	READ	2893590000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	593838
+MAP	VALUE_BYTE_COUNT	107353504
+MAP	MAP	198310120330
+MAP	WRITE	115333094000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	20744770000
+MAP	SERIALIZE_OUTPUT	41713881000
+MAP	MAP_MEM	210724576
+SPILL	SORT_AND_SPILL	25750037000
+SPILL	QUICK_SORT	18220101000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	6653343000
+SPILL	WRITE	737850000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7199391
+SPILL	COMPRESS_BYTE_COUNT	7199499
+SPILL	SORT_AND_SPILL	2913271000
+SPILL	QUICK_SORT	1071112000
+SPILL	SORT_COUNT	944871
+SPILL	COMBINE	1785496000
+SPILL	WRITE	230483000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	1945771
+SPILL	COMPRESS_BYTE_COUNT	1945879
+MERGE	TOTAL_MERGE	2464782000
+MERGE	READ_WRITE	2419894000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	218047016330
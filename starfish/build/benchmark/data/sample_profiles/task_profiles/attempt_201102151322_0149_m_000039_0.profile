@@ -0,0 +1,59 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt2/part-00001	0
+MAP	STARTUP_MEM	213632136
+MAP	SETUP	475000
+MAP	SETUP_MEM	213632136
+SPILL	SORT_AND_SPILL	28363110000
+SPILL	QUICK_SORT	14663722000
+SPILL	SORT_COUNT	5242880
+SPILL	COMBINE	13273665000
+SPILL	WRITE	770301000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	6970606
+SPILL	COMPRESS_BYTE_COUNT	6970714
+SPILL	SORT_AND_SPILL	28932954000
+SPILL	QUICK_SORT	21023651000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	7493254000
+SPILL	WRITE	829443000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7038841
+SPILL	COMPRESS_BYTE_COUNT	7038949
+MAP	CLEANUP	42000
+MAP	CLEANUP_MEM	213514656
+MAP	TOTAL_RUN	192027873000
+MAP	READ	2447522000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	82080
+MAP	VALUE_BYTE_COUNT	105058165
+MAP	MAP	189528943000
+MAP	WRITE	107832123000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	18954784000
+MAP	SERIALIZE_OUTPUT	41975938000
+MAP	MAP_MEM	213596536
+SPILL	SORT_AND_SPILL	21843298000
+SPILL	QUICK_SORT	14751389000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	6769766000
+SPILL	WRITE	781871000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7002261
+SPILL	COMPRESS_BYTE_COUNT	7002369
+SPILL	SORT_AND_SPILL	2248036000
+SPILL	QUICK_SORT	943527000
+SPILL	SORT_COUNT	779893
+SPILL	COMBINE	1265920000
+SPILL	WRITE	190468000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	1761188
+SPILL	COMPRESS_BYTE_COUNT	1761296
+MERGE	TOTAL_MERGE	2998572000
+MERGE	READ_WRITE	2752620000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	207674766000
@@ -0,0 +1,51 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt2/part-00051	0
+MAP	STARTUP_MEM	213639848
+MAP	SETUP	503000
+MAP	SETUP_MEM	213639848
+SPILL	SORT_AND_SPILL	29719336000
+SPILL	QUICK_SORT	16843055000
+SPILL	SORT_COUNT	5242880
+SPILL	COMBINE	12442491000
+SPILL	WRITE	854963000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7192559
+SPILL	COMPRESS_BYTE_COUNT	7192667
+SPILL	SORT_AND_SPILL	25668512000
+SPILL	QUICK_SORT	12901759000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	11150554000
+SPILL	WRITE	2640646000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	6939737
+SPILL	COMPRESS_BYTE_COUNT	6939845
+MAP	CLEANUP	77000
+MAP	CLEANUP_MEM	213049216
+MAP	TOTAL_RUN	178002496976
+MAP	READ	1559421000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	444140
+MAP	VALUE_BYTE_COUNT	98747765
+MAP	MAP	176220972976
+MAP	WRITE	98324277976
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	21405327976
+MAP	SERIALIZE_OUTPUT	32964130000
+MAP	MAP_MEM	213049216
+SPILL	SORT_AND_SPILL	15968954000
+SPILL	QUICK_SORT	8819042000
+SPILL	SORT_COUNT	4936777
+SPILL	COMBINE	6769043000
+SPILL	WRITE	1056391000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	6990037
+SPILL	COMPRESS_BYTE_COUNT	6990145
+MERGE	TOTAL_MERGE	2400301000
+MERGE	READ_WRITE	2174549000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	196872963976
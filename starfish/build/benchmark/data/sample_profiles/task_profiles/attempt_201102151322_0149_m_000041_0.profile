@@ -0,0 +1,51 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt2/part-00037	0
+MAP	STARTUP_MEM	213624672
+MAP	SETUP	489000
+MAP	SETUP_MEM	213624672
+SPILL	SORT_AND_SPILL	32421189000
+SPILL	QUICK_SORT	16384039000
+SPILL	SORT_COUNT	5242880
+SPILL	COMBINE	13071376000
+SPILL	WRITE	1272661000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7163681
+SPILL	COMPRESS_BYTE_COUNT	7163789
+SPILL	SORT_AND_SPILL	28597570000
+SPILL	QUICK_SORT	17929457000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	10328856000
+SPILL	WRITE	768104000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7380115
+SPILL	COMPRESS_BYTE_COUNT	7380223
+MAP	CLEANUP	93000
+MAP	CLEANUP_MEM	214642008
+MAP	TOTAL_RUN	184570049000
+MAP	READ	1504837000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	382222
+MAP	VALUE_BYTE_COUNT	98646051
+MAP	MAP	182774970000
+MAP	WRITE	101950782000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	20233328000
+MAP	SERIALIZE_OUTPUT	37602985000
+MAP	MAP_MEM	214642008
+SPILL	SORT_AND_SPILL	30243774000
+SPILL	QUICK_SORT	17516688000
+SPILL	SORT_COUNT	5002762
+SPILL	COMBINE	11734671000
+SPILL	WRITE	1839470000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	6896536
+SPILL	COMPRESS_BYTE_COUNT	6896644
+MERGE	TOTAL_MERGE	2942859000
+MERGE	READ_WRITE	2617365000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	218671047000
@@ -0,0 +1,51 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt2/part-00004	0
+MAP	STARTUP_MEM	213622112
+MAP	SETUP	484000
+MAP	SETUP_MEM	213622112
+SPILL	SORT_AND_SPILL	30016099000
+SPILL	QUICK_SORT	11946606000
+SPILL	SORT_COUNT	5242880
+SPILL	COMBINE	17359166000
+SPILL	WRITE	1846258000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	6754160
+SPILL	COMPRESS_BYTE_COUNT	6754268
+SPILL	SORT_AND_SPILL	30011776934
+SPILL	QUICK_SORT	20054288000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	9491201934
+SPILL	WRITE	1392151000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	6959757
+SPILL	COMPRESS_BYTE_COUNT	6959865
+MAP	CLEANUP	38000
+MAP	CLEANUP_MEM	213760192
+MAP	TOTAL_RUN	197368386009
+MAP	READ	1888341414
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	114354
+MAP	VALUE_BYTE_COUNT	96999010
+MAP	MAP	195402085595
+MAP	WRITE	117421250934
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	23149615000
+MAP	SERIALIZE_OUTPUT	39507633934
+MAP	MAP_MEM	213847456
+SPILL	SORT_AND_SPILL	14697991000
+SPILL	QUICK_SORT	7447781000
+SPILL	SORT_COUNT	4861013
+SPILL	COMBINE	6904561000
+SPILL	WRITE	898994000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	6698479
+SPILL	COMPRESS_BYTE_COUNT	6698587
+MERGE	TOTAL_MERGE	2362734000
+MERGE	READ_WRITE	2320666000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	215141696009
@@ -0,0 +1,51 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt2/part-00040	0
+MAP	STARTUP_MEM	213624112
+MAP	SETUP	488000
+MAP	SETUP_MEM	213624112
+SPILL	SORT_AND_SPILL	24040193000
+SPILL	QUICK_SORT	16395042000
+SPILL	SORT_COUNT	5242880
+SPILL	COMBINE	6654080000
+SPILL	WRITE	812311000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7296000
+SPILL	COMPRESS_BYTE_COUNT	7296108
+SPILL	SORT_AND_SPILL	27877495000
+SPILL	QUICK_SORT	19409626000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	8092694000
+SPILL	WRITE	816544000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7295908
+SPILL	COMPRESS_BYTE_COUNT	7296016
+MAP	CLEANUP	73000
+MAP	CLEANUP_MEM	213042744
+MAP	TOTAL_RUN	181617275000
+MAP	READ	1578526000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	378240
+MAP	VALUE_BYTE_COUNT	96847938
+MAP	MAP	179836009000
+MAP	WRITE	111501802000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	17914835000
+MAP	SERIALIZE_OUTPUT	48764284000
+MAP	MAP_MEM	213042744
+SPILL	SORT_AND_SPILL	14432761000
+SPILL	QUICK_SORT	8092007000
+SPILL	SORT_COUNT	4759762
+SPILL	COMBINE	6051634000
+SPILL	WRITE	738946000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	6838874
+SPILL	COMPRESS_BYTE_COUNT	6838982
+MERGE	TOTAL_MERGE	2794389000
+MERGE	READ_WRITE	2754047000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	199261233000
@@ -0,0 +1,51 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt2/part-00047	0
+MAP	STARTUP_MEM	213643072
+MAP	SETUP	488000
+MAP	SETUP_MEM	213643072
+SPILL	SORT_AND_SPILL	30949369000
+SPILL	QUICK_SORT	17918608000
+SPILL	SORT_COUNT	5242880
+SPILL	COMBINE	12601262000
+SPILL	WRITE	823554000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7358882
+SPILL	COMPRESS_BYTE_COUNT	7358990
+SPILL	SORT_AND_SPILL	30254958000
+SPILL	QUICK_SORT	17493770000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	12218111000
+SPILL	WRITE	781850000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7295002
+SPILL	COMPRESS_BYTE_COUNT	7295110
+MAP	CLEANUP	80000
+MAP	CLEANUP_MEM	214780280
+MAP	TOTAL_RUN	191454780000
+MAP	READ	1629212000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	374946
+MAP	VALUE_BYTE_COUNT	96492164
+MAP	MAP	189554116000
+MAP	WRITE	107142552000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	20674355000
+MAP	SERIALIZE_OUTPUT	41707740000
+MAP	MAP_MEM	214780280
+SPILL	SORT_AND_SPILL	14866342000
+SPILL	QUICK_SORT	8366939000
+SPILL	SORT_COUNT	4673459
+SPILL	COMBINE	6136691000
+SPILL	WRITE	735517000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	6830708
+SPILL	COMPRESS_BYTE_COUNT	6830816
+MERGE	TOTAL_MERGE	2443895000
+MERGE	READ_WRITE	2190664000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	209406284000
@@ -0,0 +1,51 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt2/part-00039	0
+MAP	STARTUP_MEM	213615536
+MAP	SETUP	480000
+MAP	SETUP_MEM	213615536
+SPILL	SORT_AND_SPILL	20467163000
+SPILL	QUICK_SORT	13060102000
+SPILL	SORT_COUNT	5242880
+SPILL	COMBINE	6851947000
+SPILL	WRITE	817217000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7256325
+SPILL	COMPRESS_BYTE_COUNT	7256433
+SPILL	SORT_AND_SPILL	27489724000
+SPILL	QUICK_SORT	17816189000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	6671068000
+SPILL	WRITE	742025000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7354529
+SPILL	COMPRESS_BYTE_COUNT	7354637
+MAP	CLEANUP	75000
+MAP	CLEANUP_MEM	211778664
+MAP	TOTAL_RUN	173516878000
+MAP	READ	1473688000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	455831
+MAP	VALUE_BYTE_COUNT	96405955
+MAP	MAP	171833021000
+MAP	WRITE	109902135000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	18411917000
+MAP	SERIALIZE_OUTPUT	41004605000
+MAP	MAP_MEM	212021320
+SPILL	SORT_AND_SPILL	14292328000
+SPILL	QUICK_SORT	8174375000
+SPILL	SORT_COUNT	4612953
+SPILL	COMBINE	5836984000
+SPILL	WRITE	723845000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	6453890
+SPILL	COMPRESS_BYTE_COUNT	6453998
+MERGE	TOTAL_MERGE	2199195000
+MERGE	READ_WRITE	2158753000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	190649108000
@@ -0,0 +1,51 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt2/part-00048	0
+MAP	STARTUP_MEM	213629216
+MAP	SETUP	649000
+MAP	SETUP_MEM	213629216
+SPILL	SORT_AND_SPILL	27565748000
+SPILL	QUICK_SORT	15523653000
+SPILL	SORT_COUNT	5242880
+SPILL	COMBINE	11640981000
+SPILL	WRITE	1232064000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7124968
+SPILL	COMPRESS_BYTE_COUNT	7125076
+SPILL	SORT_AND_SPILL	38114279000
+SPILL	QUICK_SORT	19185911000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	17984618000
+SPILL	WRITE	3604036000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7192443
+SPILL	COMPRESS_BYTE_COUNT	7192551
+MAP	CLEANUP	107000
+MAP	CLEANUP_MEM	214892072
+MAP	TOTAL_RUN	200067120000
+MAP	READ	1987805000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	371818
+MAP	VALUE_BYTE_COUNT	96293137
+MAP	MAP	197886138000
+MAP	WRITE	106700532000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	19637443000
+MAP	SERIALIZE_OUTPUT	38567830000
+MAP	MAP_MEM	214981800
+SPILL	SORT_AND_SPILL	16560029000
+SPILL	QUICK_SORT	9008878000
+SPILL	SORT_COUNT	4737016
+SPILL	COMBINE	7126012000
+SPILL	WRITE	734362000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	6560205
+SPILL	COMPRESS_BYTE_COUNT	6560313
+MERGE	TOTAL_MERGE	2235831000
+MERGE	READ_WRITE	2189639000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	220569290000
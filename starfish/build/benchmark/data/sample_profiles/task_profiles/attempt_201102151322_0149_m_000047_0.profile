@@ -0,0 +1,51 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt2/part-00041	0
+MAP	STARTUP_MEM	213625576
+MAP	SETUP	503000
+MAP	SETUP_MEM	213625576
+SPILL	SORT_AND_SPILL	26439736000
+SPILL	QUICK_SORT	14223110000
+SPILL	SORT_COUNT	5242880
+SPILL	COMBINE	11859366000
+SPILL	WRITE	772987000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7250024
+SPILL	COMPRESS_BYTE_COUNT	7250132
+SPILL	SORT_AND_SPILL	29334324000
+SPILL	QUICK_SORT	15405489000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	13571374000
+SPILL	WRITE	2331973000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7548277
+SPILL	COMPRESS_BYTE_COUNT	7548385
+MAP	CLEANUP	89000
+MAP	CLEANUP_MEM	214243272
+MAP	TOTAL_RUN	181071824000
+MAP	READ	1502642000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	351851
+MAP	VALUE_BYTE_COUNT	96087280
+MAP	MAP	179393547000
+MAP	WRITE	100271521000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	19137098000
+MAP	SERIALIZE_OUTPUT	32446414000
+MAP	MAP_MEM	214243272
+SPILL	SORT_AND_SPILL	12712284000
+SPILL	QUICK_SORT	6762094000
+SPILL	SORT_COUNT	4632896
+SPILL	COMBINE	5629454000
+SPILL	WRITE	648629000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	6571449
+SPILL	COMPRESS_BYTE_COUNT	6571557
+MERGE	TOTAL_MERGE	2134106000
+MERGE	READ_WRITE	2094809000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	196759726000
@@ -0,0 +1,51 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt2/part-00055	0
+MAP	STARTUP_MEM	212759152
+MAP	SETUP	753000
+MAP	SETUP_MEM	212759152
+SPILL	SORT_AND_SPILL	29851226000
+SPILL	QUICK_SORT	22935887000
+SPILL	SORT_COUNT	5242880
+SPILL	COMBINE	6585123000
+SPILL	WRITE	801812000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7107038
+SPILL	COMPRESS_BYTE_COUNT	7107146
+SPILL	SORT_AND_SPILL	27256207000
+SPILL	QUICK_SORT	19457572000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	6645009000
+SPILL	WRITE	742952000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7059539
+SPILL	COMPRESS_BYTE_COUNT	7059647
+MAP	CLEANUP	71000
+MAP	CLEANUP_MEM	212630144
+MAP	TOTAL_RUN	171161794000
+MAP	READ	2380780000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	389598
+MAP	VALUE_BYTE_COUNT	95250654
+MAP	MAP	168464351000
+MAP	WRITE	101947262000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	17451818000
+MAP	SERIALIZE_OUTPUT	42226553000
+MAP	MAP_MEM	212872800
+SPILL	SORT_AND_SPILL	13478847000
+SPILL	QUICK_SORT	7237487000
+SPILL	SORT_COUNT	4426823
+SPILL	COMBINE	5961832000
+SPILL	WRITE	687699000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	6265198
+SPILL	COMPRESS_BYTE_COUNT	6265306
+MERGE	TOTAL_MERGE	3203856000
+MERGE	READ_WRITE	3148800000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	188660515000
@@ -0,0 +1,51 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt2/part-00052	0
+MAP	STARTUP_MEM	213571448
+MAP	SETUP	510000
+MAP	SETUP_MEM	213571448
+SPILL	SORT_AND_SPILL	25650829794
+SPILL	QUICK_SORT	13585872000
+SPILL	SORT_COUNT	5242880
+SPILL	COMBINE	11259359794
+SPILL	WRITE	1313147000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7309293
+SPILL	COMPRESS_BYTE_COUNT	7309401
+SPILL	SORT_AND_SPILL	25944564945
+SPILL	QUICK_SORT	14411278945
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	11088871000
+SPILL	WRITE	1437843000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7366228
+SPILL	COMPRESS_BYTE_COUNT	7366336
+MAP	CLEANUP	81000
+MAP	CLEANUP_MEM	213657808
+MAP	TOTAL_RUN	194579689935
+MAP	READ	1681338000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	458600
+MAP	VALUE_BYTE_COUNT	93235610
+MAP	MAP	192342063935
+MAP	WRITE	102784024141
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	22226393098
+MAP	SERIALIZE_OUTPUT	31099370000
+MAP	MAP_MEM	213900464
+SPILL	SORT_AND_SPILL	14486209000
+SPILL	QUICK_SORT	7856658000
+SPILL	SORT_COUNT	4068685
+SPILL	COMBINE	6301669000
+SPILL	WRITE	757366000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	6187333
+SPILL	COMPRESS_BYTE_COUNT	6187441
+MERGE	TOTAL_MERGE	2289936000
+MERGE	READ_WRITE	2244301000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	211934656935
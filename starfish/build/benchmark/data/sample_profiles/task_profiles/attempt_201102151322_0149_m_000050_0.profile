@@ -0,0 +1,51 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt2/part-00005	0
+MAP	STARTUP_MEM	212770424
+MAP	SETUP	448000
+MAP	SETUP_MEM	212770424
+SPILL	SORT_AND_SPILL	28182460000
+SPILL	QUICK_SORT	15890905000
+SPILL	SORT_COUNT	5242880
+SPILL	COMBINE	10336341000
+SPILL	WRITE	773380000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7106687
+SPILL	COMPRESS_BYTE_COUNT	7106795
+SPILL	SORT_AND_SPILL	29335240000
+SPILL	QUICK_SORT	20483113000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	6827707000
+SPILL	WRITE	829416000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7127618
+SPILL	COMPRESS_BYTE_COUNT	7127726
+MAP	CLEANUP	74000
+MAP	CLEANUP_MEM	212153544
+MAP	TOTAL_RUN	178166838000
+MAP	READ	1426530000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	127188
+MAP	VALUE_BYTE_COUNT	93150749
+MAP	MAP	176667592000
+MAP	WRITE	100207499000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	16876037000
+MAP	SERIALIZE_OUTPUT	38758239000
+MAP	MAP_MEM	212153544
+SPILL	SORT_AND_SPILL	13031044000
+SPILL	QUICK_SORT	7275307000
+SPILL	SORT_COUNT	4188080
+SPILL	COMBINE	5458740000
+SPILL	WRITE	696365000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	6032928
+SPILL	COMPRESS_BYTE_COUNT	6033036
+MERGE	TOTAL_MERGE	2069493000
+MERGE	READ_WRITE	2029044000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	193713400000
@@ -0,0 +1,51 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt2/part-00003	0
+MAP	STARTUP_MEM	213629248
+MAP	SETUP	504000
+MAP	SETUP_MEM	213629248
+SPILL	SORT_AND_SPILL	30367188000
+SPILL	QUICK_SORT	21679371000
+SPILL	SORT_COUNT	5242880
+SPILL	COMBINE	7944975000
+SPILL	WRITE	836812000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7019349
+SPILL	COMPRESS_BYTE_COUNT	7019457
+SPILL	SORT_AND_SPILL	27636876000
+SPILL	QUICK_SORT	13528889000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	13768449000
+SPILL	WRITE	2331023000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7160895
+SPILL	COMPRESS_BYTE_COUNT	7161003
+MAP	CLEANUP	37000
+MAP	CLEANUP_MEM	213014416
+MAP	TOTAL_RUN	175624210976
+MAP	READ	1645981000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	97632
+MAP	VALUE_BYTE_COUNT	92875685
+MAP	MAP	173920880976
+MAP	WRITE	98738645976
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	18840222000
+MAP	SERIALIZE_OUTPUT	36893370000
+MAP	MAP_MEM	213337152
+SPILL	SORT_AND_SPILL	12520029000
+SPILL	QUICK_SORT	6857122000
+SPILL	SORT_COUNT	4151059
+SPILL	COMBINE	5291123000
+SPILL	WRITE	609437000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	6188396
+SPILL	COMPRESS_BYTE_COUNT	6188504
+MERGE	TOTAL_MERGE	2108945000
+MERGE	READ_WRITE	2068337000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	190780120976
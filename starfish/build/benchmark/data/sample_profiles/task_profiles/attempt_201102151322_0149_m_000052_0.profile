@@ -0,0 +1,51 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt2/part-00058	0
+MAP	STARTUP_MEM	213637120
+MAP	SETUP	477000
+MAP	SETUP_MEM	213637120
+SPILL	SORT_AND_SPILL	26798997000
+SPILL	QUICK_SORT	15010126000
+SPILL	SORT_COUNT	5242880
+SPILL	COMBINE	11182289000
+SPILL	WRITE	980875000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7294382
+SPILL	COMPRESS_BYTE_COUNT	7294490
+SPILL	SORT_AND_SPILL	29191156000
+SPILL	QUICK_SORT	17489598000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	11245823000
+SPILL	WRITE	1940952000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7283476
+SPILL	COMPRESS_BYTE_COUNT	7283584
+MAP	CLEANUP	82000
+MAP	CLEANUP_MEM	215582096
+MAP	TOTAL_RUN	185135919000
+MAP	READ	1871175000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	396670
+MAP	VALUE_BYTE_COUNT	92810715
+MAP	MAP	183067009000
+MAP	WRITE	105708662000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	15987757000
+MAP	SERIALIZE_OUTPUT	42981818000
+MAP	MAP_MEM	215582096
+SPILL	SORT_AND_SPILL	14011621000
+SPILL	QUICK_SORT	7918168000
+SPILL	SORT_COUNT	4069993
+SPILL	COMBINE	5714906000
+SPILL	WRITE	669730000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	5800243
+SPILL	COMPRESS_BYTE_COUNT	5800351
+MERGE	TOTAL_MERGE	2258204000
+MERGE	READ_WRITE	2197879000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	201885444000
@@ -0,0 +1,51 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt2/part-00056	0
+MAP	STARTUP_MEM	213665576
+MAP	SETUP	515000
+MAP	SETUP_MEM	213665576
+SPILL	SORT_AND_SPILL	24852804210
+SPILL	QUICK_SORT	13520225210
+SPILL	SORT_COUNT	5242880
+SPILL	COMBINE	10585367000
+SPILL	WRITE	1475606000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7228833
+SPILL	COMPRESS_BYTE_COUNT	7228941
+SPILL	SORT_AND_SPILL	26733504000
+SPILL	QUICK_SORT	14370714000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	11877919000
+SPILL	WRITE	1350357000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7187301
+SPILL	COMPRESS_BYTE_COUNT	7187409
+MAP	CLEANUP	79000
+MAP	CLEANUP_MEM	213653736
+MAP	TOTAL_RUN	198709649447
+MAP	READ	1711629000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	424332
+MAP	VALUE_BYTE_COUNT	92026297
+MAP	MAP	196182874447
+MAP	WRITE	108588813933
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	22779958210
+MAP	SERIALIZE_OUTPUT	31480676361
+MAP	MAP_MEM	213653736
+SPILL	SORT_AND_SPILL	14039188000
+SPILL	QUICK_SORT	7010931000
+SPILL	SORT_COUNT	3877348
+SPILL	COMBINE	6632934000
+SPILL	WRITE	1080157000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	5684864
+SPILL	COMPRESS_BYTE_COUNT	5684972
+MERGE	TOTAL_MERGE	2117093000
+MERGE	READ_WRITE	2068709000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	215408929447
@@ -0,0 +1,51 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt2/part-00050	0
+MAP	STARTUP_MEM	213619184
+MAP	SETUP	492000
+MAP	SETUP_MEM	213619184
+SPILL	SORT_AND_SPILL	29273786000
+SPILL	QUICK_SORT	13680608000
+SPILL	SORT_COUNT	5242880
+SPILL	COMBINE	15182601000
+SPILL	WRITE	4092210000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7271908
+SPILL	COMPRESS_BYTE_COUNT	7272016
+SPILL	SORT_AND_SPILL	33262570000
+SPILL	QUICK_SORT	19262927000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	13557616000
+SPILL	WRITE	1238797000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7462746
+SPILL	COMPRESS_BYTE_COUNT	7462854
+MAP	CLEANUP	82000
+MAP	CLEANUP_MEM	214720184
+MAP	TOTAL_RUN	187090196000
+MAP	READ	3917875000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	439054
+MAP	VALUE_BYTE_COUNT	91914228
+MAP	MAP	182963282000
+MAP	WRITE	102694429000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	18845339000
+MAP	SERIALIZE_OUTPUT	36686388000
+MAP	MAP_MEM	214720184
+SPILL	SORT_AND_SPILL	12034507000
+SPILL	QUICK_SORT	6556579000
+SPILL	SORT_COUNT	3839309
+SPILL	COMBINE	5167168000
+SPILL	WRITE	627786000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	5557472
+SPILL	COMPRESS_BYTE_COUNT	5557580
+MERGE	TOTAL_MERGE	2562599000
+MERGE	READ_WRITE	2494156000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	202308477000
@@ -0,0 +1,51 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt2/part-00042	0
+MAP	STARTUP_MEM	213611496
+MAP	SETUP	500000
+MAP	SETUP_MEM	213611496
+SPILL	SORT_AND_SPILL	24998917000
+SPILL	QUICK_SORT	13378983000
+SPILL	SORT_COUNT	5242880
+SPILL	COMBINE	11094376000
+SPILL	WRITE	1136973000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7411924
+SPILL	COMPRESS_BYTE_COUNT	7412032
+SPILL	SORT_AND_SPILL	33026876000
+SPILL	QUICK_SORT	18976821000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	13005408000
+SPILL	WRITE	1330606000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7441461
+SPILL	COMPRESS_BYTE_COUNT	7441569
+MAP	CLEANUP	77000
+MAP	CLEANUP_MEM	213588160
+MAP	TOTAL_RUN	192986529775
+MAP	READ	1550916000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	335653
+MAP	VALUE_BYTE_COUNT	91451846
+MAP	MAP	191151930775
+MAP	WRITE	115418911775
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	18620521773
+MAP	SERIALIZE_OUTPUT	45733801925
+MAP	MAP_MEM	213830816
+SPILL	SORT_AND_SPILL	12463571000
+SPILL	QUICK_SORT	6200288000
+SPILL	SORT_COUNT	3818789
+SPILL	COMBINE	5974423000
+SPILL	WRITE	816279000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	6007184
+SPILL	COMPRESS_BYTE_COUNT	6007292
+MERGE	TOTAL_MERGE	2350890000
+MERGE	READ_WRITE	2310967000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	208229975775
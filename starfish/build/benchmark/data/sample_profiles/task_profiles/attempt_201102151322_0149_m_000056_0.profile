@@ -0,0 +1,51 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt2/part-00053	0
+MAP	STARTUP_MEM	212791104
+MAP	SETUP	455000
+MAP	SETUP_MEM	212791104
+SPILL	SORT_AND_SPILL	27228773000
+SPILL	QUICK_SORT	12130714000
+SPILL	SORT_COUNT	5242880
+SPILL	COMBINE	14711122000
+SPILL	WRITE	1336394000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7059547
+SPILL	COMPRESS_BYTE_COUNT	7059655
+SPILL	SORT_AND_SPILL	32646055077
+SPILL	QUICK_SORT	23442064000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	8736621077
+SPILL	WRITE	1125595000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7268327
+SPILL	COMPRESS_BYTE_COUNT	7268435
+MAP	CLEANUP	76000
+MAP	CLEANUP_MEM	212741752
+MAP	TOTAL_RUN	191379745775
+MAP	READ	1798804000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	400421
+MAP	VALUE_BYTE_COUNT	91185770
+MAP	MAP	189345680775
+MAP	WRITE	110731212775
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	19353151000
+MAP	SERIALIZE_OUTPUT	39225831775
+MAP	MAP_MEM	212984408
+SPILL	SORT_AND_SPILL	12278751000
+SPILL	QUICK_SORT	6024272000
+SPILL	SORT_COUNT	3748348
+SPILL	COMBINE	5972316000
+SPILL	WRITE	723120000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	5771343
+SPILL	COMPRESS_BYTE_COUNT	5771451
+MERGE	TOTAL_MERGE	2282647000
+MERGE	READ_WRITE	2179014000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	206424378775
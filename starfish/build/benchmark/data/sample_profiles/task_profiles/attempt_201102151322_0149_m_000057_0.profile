@@ -0,0 +1,51 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt2/part-00049	0
+MAP	STARTUP_MEM	213636856
+MAP	SETUP	506000
+MAP	SETUP_MEM	213636856
+SPILL	SORT_AND_SPILL	31218092661
+SPILL	QUICK_SORT	18228771000
+SPILL	SORT_COUNT	5242880
+SPILL	COMBINE	10305719661
+SPILL	WRITE	1352808000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7216672
+SPILL	COMPRESS_BYTE_COUNT	7216780
+SPILL	SORT_AND_SPILL	24293101934
+SPILL	QUICK_SORT	12464816934
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	11413746000
+SPILL	WRITE	1522357000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7218659
+SPILL	COMPRESS_BYTE_COUNT	7218767
+MAP	CLEANUP	78000
+MAP	CLEANUP_MEM	213627776
+MAP	TOTAL_RUN	193239722009
+MAP	READ	1769397000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	380477
+MAP	VALUE_BYTE_COUNT	90942380
+MAP	MAP	191242358009
+MAP	WRITE	109406790414
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	20075424000
+MAP	SERIALIZE_OUTPUT	36423303000
+MAP	MAP_MEM	213724344
+SPILL	SORT_AND_SPILL	13666116221
+SPILL	QUICK_SORT	5950896000
+SPILL	SORT_COUNT	3791965
+SPILL	COMBINE	7345509221
+SPILL	WRITE	1038803000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	5744976
+SPILL	COMPRESS_BYTE_COUNT	5745084
+MERGE	TOTAL_MERGE	2134238000
+MERGE	READ_WRITE	2095598000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	209539986230
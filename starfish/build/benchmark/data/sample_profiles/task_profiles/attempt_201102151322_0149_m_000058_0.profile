@@ -0,0 +1,51 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt2/part-00054	0
+MAP	STARTUP_MEM	213633400
+MAP	SETUP	495000
+MAP	SETUP_MEM	213633400
+SPILL	SORT_AND_SPILL	29035808000
+SPILL	QUICK_SORT	12916560000
+SPILL	SORT_COUNT	5242880
+SPILL	COMBINE	13655640000
+SPILL	WRITE	2386165000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7304199
+SPILL	COMPRESS_BYTE_COUNT	7304307
+SPILL	SORT_AND_SPILL	27224697000
+SPILL	QUICK_SORT	13551708000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	12158920000
+SPILL	WRITE	777520000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7238189
+SPILL	COMPRESS_BYTE_COUNT	7238297
+MAP	CLEANUP	71000
+MAP	CLEANUP_MEM	212540720
+MAP	TOTAL_RUN	169487862000
+MAP	READ	1558316000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	357233
+MAP	VALUE_BYTE_COUNT	90294888
+MAP	MAP	167758906000
+MAP	WRITE	96322733000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	15589895000
+MAP	SERIALIZE_OUTPUT	29605155000
+MAP	MAP_MEM	212783376
+SPILL	SORT_AND_SPILL	16566325000
+SPILL	QUICK_SORT	10907092000
+SPILL	SORT_COUNT	3626309
+SPILL	COMBINE	5285313000
+SPILL	WRITE	681380000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	5548003
+SPILL	COMPRESS_BYTE_COUNT	5548111
+MERGE	TOTAL_MERGE	2142847000
+MERGE	READ_WRITE	2095241000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	188655441000
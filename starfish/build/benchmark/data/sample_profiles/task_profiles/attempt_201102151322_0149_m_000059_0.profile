@@ -0,0 +1,51 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt2/part-00044	0
+MAP	STARTUP_MEM	213612960
+MAP	SETUP	674000
+MAP	SETUP_MEM	213612960
+SPILL	SORT_AND_SPILL	28665289000
+SPILL	QUICK_SORT	16343088000
+SPILL	SORT_COUNT	5242880
+SPILL	COMBINE	10477634000
+SPILL	WRITE	2284441000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7321770
+SPILL	COMPRESS_BYTE_COUNT	7321878
+SPILL	SORT_AND_SPILL	27884761000
+SPILL	QUICK_SORT	16943445000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	10566049000
+SPILL	WRITE	2260702000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7292807
+SPILL	COMPRESS_BYTE_COUNT	7292915
+MAP	CLEANUP	96000
+MAP	CLEANUP_MEM	213432632
+MAP	TOTAL_RUN	163484274000
+MAP	READ	3686420000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	403499
+MAP	VALUE_BYTE_COUNT	89699116
+MAP	MAP	159577186000
+MAP	WRITE	90147736000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	17465132000
+MAP	SERIALIZE_OUTPUT	34694274000
+MAP	MAP_MEM	213432632
+SPILL	SORT_AND_SPILL	10746973000
+SPILL	QUICK_SORT	5694509000
+SPILL	SORT_COUNT	3500415
+SPILL	COMBINE	4784145000
+SPILL	WRITE	688967000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	5382309
+SPILL	COMPRESS_BYTE_COUNT	5382417
+MERGE	TOTAL_MERGE	2143986000
+MERGE	READ_WRITE	2098239000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	176816524000
@@ -0,0 +1,51 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt2/part-00045	0
+MAP	STARTUP_MEM	212684144
+MAP	SETUP	453000
+MAP	SETUP_MEM	212684144
+SPILL	SORT_AND_SPILL	25321756794
+SPILL	QUICK_SORT	14013795794
+SPILL	SORT_COUNT	5242880
+SPILL	COMBINE	10519976000
+SPILL	WRITE	1490134000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7129187
+SPILL	COMPRESS_BYTE_COUNT	7129295
+SPILL	SORT_AND_SPILL	26178965000
+SPILL	QUICK_SORT	15436229000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	10072837000
+SPILL	WRITE	1336115000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7161993
+SPILL	COMPRESS_BYTE_COUNT	7162101
+MAP	CLEANUP	86000
+MAP	CLEANUP_MEM	213260096
+MAP	TOTAL_RUN	188566628837
+MAP	READ	2378548000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	455574
+MAP	VALUE_BYTE_COUNT	88633876
+MAP	MAP	185767628837
+MAP	WRITE	102773032739
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	19335775000
+MAP	SERIALIZE_OUTPUT	31622050945
+MAP	MAP_MEM	213260096
+SPILL	SORT_AND_SPILL	11528663098
+SPILL	QUICK_SORT	5659499098
+SPILL	SORT_COUNT	3301512
+SPILL	COMBINE	5480832000
+SPILL	WRITE	751678000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	5014886
+SPILL	COMPRESS_BYTE_COUNT	5014994
+MERGE	TOTAL_MERGE	2052789000
+MERGE	READ_WRITE	2012937000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	202683298935
@@ -0,0 +1,51 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt2/part-00066	0
+MAP	STARTUP_MEM	213633280
+MAP	SETUP	501000
+MAP	SETUP_MEM	213633280
+SPILL	SORT_AND_SPILL	26968344000
+SPILL	QUICK_SORT	14994214000
+SPILL	SORT_COUNT	5242880
+SPILL	COMBINE	11560756000
+SPILL	WRITE	2378725000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7537517
+SPILL	COMPRESS_BYTE_COUNT	7537625
+SPILL	SORT_AND_SPILL	28831714000
+SPILL	QUICK_SORT	17863152000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	9779061000
+SPILL	WRITE	2155990000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7416049
+SPILL	COMPRESS_BYTE_COUNT	7416157
+MAP	CLEANUP	80000
+MAP	CLEANUP_MEM	211647848
+MAP	TOTAL_RUN	170670522000
+MAP	READ	2661158000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	357192
+MAP	VALUE_BYTE_COUNT	88604334
+MAP	MAP	167835655000
+MAP	WRITE	92978070000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	21447078000
+MAP	SERIALIZE_OUTPUT	29289297000
+MAP	MAP_MEM	211745984
+SPILL	SORT_AND_SPILL	11377560000
+SPILL	QUICK_SORT	5636016000
+SPILL	SORT_COUNT	3315239
+SPILL	COMBINE	5509703000
+SPILL	WRITE	613546000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	5418408
+SPILL	COMPRESS_BYTE_COUNT	5418516
+MERGE	TOTAL_MERGE	2851875000
+MERGE	READ_WRITE	2810366000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	185340233000
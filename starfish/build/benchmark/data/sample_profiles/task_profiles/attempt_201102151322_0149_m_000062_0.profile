@@ -0,0 +1,51 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt2/part-00061	0
+MAP	STARTUP_MEM	213666504
+MAP	SETUP	532000
+MAP	SETUP_MEM	213666504
+SPILL	SORT_AND_SPILL	27497228000
+SPILL	QUICK_SORT	17796457000
+SPILL	SORT_COUNT	5242880
+SPILL	COMBINE	8796944000
+SPILL	WRITE	1115228000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7354107
+SPILL	COMPRESS_BYTE_COUNT	7354215
+SPILL	SORT_AND_SPILL	33395529000
+SPILL	QUICK_SORT	17546079000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	15135557000
+SPILL	WRITE	1549735000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7489382
+SPILL	COMPRESS_BYTE_COUNT	7489490
+MAP	CLEANUP	118000
+MAP	CLEANUP_MEM	215018296
+MAP	TOTAL_RUN	197702513406
+MAP	READ	2056945602
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	389149
+MAP	VALUE_BYTE_COUNT	87980026
+MAP	MAP	193466275804
+MAP	WRITE	113483241000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	20933773000
+MAP	SERIALIZE_OUTPUT	40196079000
+MAP	MAP_MEM	215018296
+SPILL	SORT_AND_SPILL	12520456000
+SPILL	QUICK_SORT	6697480000
+SPILL	SORT_COUNT	3245471
+SPILL	COMBINE	5467540000
+SPILL	WRITE	651760000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	5111431
+SPILL	COMPRESS_BYTE_COUNT	5111539
+MERGE	TOTAL_MERGE	2433984000
+MERGE	READ_WRITE	2169043000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	213143311406
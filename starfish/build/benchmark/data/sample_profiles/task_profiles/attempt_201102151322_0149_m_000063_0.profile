@@ -0,0 +1,51 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt2/part-00057	0
+MAP	STARTUP_MEM	212771056
+MAP	SETUP	481000
+MAP	SETUP_MEM	212771056
+SPILL	SORT_AND_SPILL	25206571925
+SPILL	QUICK_SORT	12656723000
+SPILL	SORT_COUNT	5242880
+SPILL	COMBINE	12039815925
+SPILL	WRITE	1080926000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	6953657
+SPILL	COMPRESS_BYTE_COUNT	6953765
+SPILL	SORT_AND_SPILL	27127211925
+SPILL	QUICK_SORT	12919064925
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	13744481000
+SPILL	WRITE	1312772000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7453514
+SPILL	COMPRESS_BYTE_COUNT	7453622
+MAP	CLEANUP	76000
+MAP	CLEANUP_MEM	214465816
+MAP	TOTAL_RUN	176101267775
+MAP	READ	1871698000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	440516
+MAP	VALUE_BYTE_COUNT	87553065
+MAP	MAP	173869139775
+MAP	WRITE	97230085775
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	20129138925
+MAP	SERIALIZE_OUTPUT	29461924925
+MAP	MAP_MEM	214708472
+SPILL	SORT_AND_SPILL	9385928000
+SPILL	QUICK_SORT	4486605000
+SPILL	SORT_COUNT	3125437
+SPILL	COMBINE	4643700000
+SPILL	WRITE	608702000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	4970960
+SPILL	COMPRESS_BYTE_COUNT	4971068
+MERGE	TOTAL_MERGE	1972342000
+MERGE	READ_WRITE	1933535000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	187893730775
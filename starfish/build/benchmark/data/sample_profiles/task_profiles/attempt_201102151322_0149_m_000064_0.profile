@@ -0,0 +1,51 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt2/part-00059	0
+MAP	STARTUP_MEM	213630832
+MAP	SETUP	519000
+MAP	SETUP_MEM	213630832
+SPILL	SORT_AND_SPILL	29724111000
+SPILL	QUICK_SORT	19191221000
+SPILL	SORT_COUNT	5242880
+SPILL	COMBINE	10114014000
+SPILL	WRITE	929814000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7152477
+SPILL	COMPRESS_BYTE_COUNT	7152585
+SPILL	SORT_AND_SPILL	29256593000
+SPILL	QUICK_SORT	20587810000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	8074864000
+SPILL	WRITE	827188000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7312492
+SPILL	COMPRESS_BYTE_COUNT	7312600
+MAP	CLEANUP	80000
+MAP	CLEANUP_MEM	214631720
+MAP	TOTAL_RUN	170556125000
+MAP	READ	1474295000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	346320
+MAP	VALUE_BYTE_COUNT	87190358
+MAP	MAP	168870057000
+MAP	WRITE	98419536000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	15006418000
+MAP	SERIALIZE_OUTPUT	35798636000
+MAP	MAP_MEM	214631720
+SPILL	SORT_AND_SPILL	10433298000
+SPILL	QUICK_SORT	5676962000
+SPILL	SORT_COUNT	3149143
+SPILL	COMBINE	4446824000
+SPILL	WRITE	514285000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	4948509
+SPILL	COMPRESS_BYTE_COUNT	4948617
+MERGE	TOTAL_MERGE	2074686000
+MERGE	READ_WRITE	2031946000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	183523588000
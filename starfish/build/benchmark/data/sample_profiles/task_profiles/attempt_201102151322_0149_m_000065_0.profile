@@ -0,0 +1,51 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt2/part-00062	0
+MAP	STARTUP_MEM	213624320
+MAP	SETUP	506000
+MAP	SETUP_MEM	213624320
+SPILL	SORT_AND_SPILL	29331584000
+SPILL	QUICK_SORT	19307163000
+SPILL	SORT_COUNT	5242880
+SPILL	COMBINE	9308064000
+SPILL	WRITE	924884000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7240092
+SPILL	COMPRESS_BYTE_COUNT	7240200
+SPILL	SORT_AND_SPILL	29408082000
+SPILL	QUICK_SORT	14447472000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	13784483000
+SPILL	WRITE	942291000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7309372
+SPILL	COMPRESS_BYTE_COUNT	7309480
+MAP	CLEANUP	71000
+MAP	CLEANUP_MEM	211805400
+MAP	TOTAL_RUN	166998972000
+MAP	READ	1654401000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	350366
+MAP	VALUE_BYTE_COUNT	87045531
+MAP	MAP	165173716000
+MAP	WRITE	93791619000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	16323389000
+MAP	SERIALIZE_OUTPUT	39442706000
+MAP	MAP_MEM	212048056
+SPILL	SORT_AND_SPILL	11356868000
+SPILL	QUICK_SORT	6175603000
+SPILL	SORT_COUNT	3126457
+SPILL	COMBINE	4970922000
+SPILL	WRITE	952032000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	5112780
+SPILL	COMPRESS_BYTE_COUNT	5112888
+MERGE	TOTAL_MERGE	2093172000
+MERGE	READ_WRITE	2053168000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	180882722000
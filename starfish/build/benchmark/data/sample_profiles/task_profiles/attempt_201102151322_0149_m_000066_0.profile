@@ -0,0 +1,51 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt2/part-00065	0
+MAP	STARTUP_MEM	212770296
+MAP	SETUP	455000
+MAP	SETUP_MEM	212770296
+SPILL	SORT_AND_SPILL	27525079000
+SPILL	QUICK_SORT	14086115000
+SPILL	SORT_COUNT	5242880
+SPILL	COMBINE	11004497000
+SPILL	WRITE	901368000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	8075288
+SPILL	COMPRESS_BYTE_COUNT	8075396
+SPILL	SORT_AND_SPILL	23471327000
+SPILL	QUICK_SORT	12178165000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	10832984000
+SPILL	WRITE	1056396000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7280821
+SPILL	COMPRESS_BYTE_COUNT	7280929
+MAP	CLEANUP	76000
+MAP	CLEANUP_MEM	212226648
+MAP	TOTAL_RUN	159961268000
+MAP	READ	1413170000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	359829
+MAP	VALUE_BYTE_COUNT	86197374
+MAP	MAP	158363192000
+MAP	WRITE	88778815000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	18457568000
+MAP	SERIALIZE_OUTPUT	27226842000
+MAP	MAP_MEM	212226648
+SPILL	SORT_AND_SPILL	8244442000
+SPILL	QUICK_SORT	4049251000
+SPILL	SORT_COUNT	2970154
+SPILL	COMBINE	3946400000
+SPILL	WRITE	508558000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	4733702
+SPILL	COMPRESS_BYTE_COUNT	4733810
+MERGE	TOTAL_MERGE	2039062000
+MERGE	READ_WRITE	2000732000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	171392411000
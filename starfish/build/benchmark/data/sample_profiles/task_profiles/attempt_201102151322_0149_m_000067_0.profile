@@ -0,0 +1,51 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt2/part-00064	0
+MAP	STARTUP_MEM	212812224
+MAP	SETUP	475000
+MAP	SETUP_MEM	212812224
+SPILL	SORT_AND_SPILL	26460825000
+SPILL	QUICK_SORT	13756568000
+SPILL	SORT_COUNT	5242880
+SPILL	COMBINE	12007394000
+SPILL	WRITE	1537857000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7336016
+SPILL	COMPRESS_BYTE_COUNT	7336124
+SPILL	SORT_AND_SPILL	25034993000
+SPILL	QUICK_SORT	13372836000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	11217541000
+SPILL	WRITE	2074451000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7257724
+SPILL	COMPRESS_BYTE_COUNT	7257832
+MAP	CLEANUP	95000
+MAP	CLEANUP_MEM	211555624
+MAP	TOTAL_RUN	184891542933
+MAP	READ	1585993000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	360009
+MAP	VALUE_BYTE_COUNT	85555151
+MAP	MAP	182998738933
+MAP	WRITE	100901771933
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	19905097361
+MAP	SERIALIZE_OUTPUT	30433581572
+MAP	MAP_MEM	211555624
+SPILL	SORT_AND_SPILL	10060085000
+SPILL	QUICK_SORT	5005542000
+SPILL	SORT_COUNT	2904678
+SPILL	COMBINE	4827137000
+SPILL	WRITE	753999000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	4579602
+SPILL	COMPRESS_BYTE_COUNT	4579710
+MERGE	TOTAL_MERGE	2334690000
+MERGE	READ_WRITE	2122696000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	197849324933
@@ -0,0 +1,51 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt2/part-00063	0
+MAP	STARTUP_MEM	212782536
+MAP	SETUP	426000
+MAP	SETUP_MEM	212782536
+SPILL	SORT_AND_SPILL	27857975000
+SPILL	QUICK_SORT	14601703000
+SPILL	SORT_COUNT	5242880
+SPILL	COMBINE	12229944000
+SPILL	WRITE	818026000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7690499
+SPILL	COMPRESS_BYTE_COUNT	7690607
+SPILL	SORT_AND_SPILL	28677114000
+SPILL	QUICK_SORT	15212574000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	11996296000
+SPILL	WRITE	1127899000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7387694
+SPILL	COMPRESS_BYTE_COUNT	7387802
+MAP	CLEANUP	76000
+MAP	CLEANUP_MEM	211974168
+MAP	TOTAL_RUN	157453754000
+MAP	READ	1497324000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	347829
+MAP	VALUE_BYTE_COUNT	85379007
+MAP	MAP	155783179000
+MAP	WRITE	84795474000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	15958356000
+MAP	SERIALIZE_OUTPUT	26601174000
+MAP	MAP_MEM	211974168
+SPILL	SORT_AND_SPILL	10163788000
+SPILL	QUICK_SORT	4911409000
+SPILL	SORT_COUNT	2869505
+SPILL	COMBINE	4960834000
+SPILL	WRITE	706873000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	4713650
+SPILL	COMPRESS_BYTE_COUNT	4713758
+MERGE	TOTAL_MERGE	2122762000
+MERGE	READ_WRITE	2082963000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	170268603000
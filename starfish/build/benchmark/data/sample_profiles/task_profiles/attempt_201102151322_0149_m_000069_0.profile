@@ -0,0 +1,51 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt2/part-00006	0
+MAP	STARTUP_MEM	213609784
+MAP	SETUP	507000
+MAP	SETUP_MEM	213609784
+SPILL	SORT_AND_SPILL	28743235000
+SPILL	QUICK_SORT	15533849000
+SPILL	SORT_COUNT	5242880
+SPILL	COMBINE	11863736000
+SPILL	WRITE	2445895000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7212956
+SPILL	COMPRESS_BYTE_COUNT	7213064
+SPILL	SORT_AND_SPILL	27979803000
+SPILL	QUICK_SORT	13804128000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	13692180000
+SPILL	WRITE	764771000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7388614
+SPILL	COMPRESS_BYTE_COUNT	7388722
+MAP	CLEANUP	45000
+MAP	CLEANUP_MEM	211562864
+MAP	TOTAL_RUN	163419217000
+MAP	READ	2150054000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	139968
+MAP	VALUE_BYTE_COUNT	83994505
+MAP	MAP	161119263000
+MAP	WRITE	93028016000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	16226715000
+MAP	SERIALIZE_OUTPUT	33570421000
+MAP	MAP_MEM	211562864
+SPILL	SORT_AND_SPILL	8073067000
+SPILL	QUICK_SORT	4056435000
+SPILL	SORT_COUNT	2733835
+SPILL	COMBINE	3828747000
+SPILL	WRITE	490780000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	4570454
+SPILL	COMPRESS_BYTE_COUNT	4570562
+MERGE	TOTAL_MERGE	2193878000
+MERGE	READ_WRITE	1965876000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	174156241000
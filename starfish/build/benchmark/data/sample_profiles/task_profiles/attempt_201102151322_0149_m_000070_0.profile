@@ -0,0 +1,51 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt2/part-00060	0
+MAP	STARTUP_MEM	213608608
+MAP	SETUP	508000
+MAP	SETUP_MEM	213608608
+SPILL	SORT_AND_SPILL	28996039000
+SPILL	QUICK_SORT	14381441000
+SPILL	SORT_COUNT	5242880
+SPILL	COMBINE	9153237000
+SPILL	WRITE	865274000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7329024
+SPILL	COMPRESS_BYTE_COUNT	7329132
+SPILL	SORT_AND_SPILL	28009423000
+SPILL	QUICK_SORT	15260645000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	10825666000
+SPILL	WRITE	797088000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7460381
+SPILL	COMPRESS_BYTE_COUNT	7460489
+MAP	CLEANUP	85000
+MAP	CLEANUP_MEM	212231624
+MAP	TOTAL_RUN	156371231000
+MAP	READ	1448665000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	387566
+MAP	VALUE_BYTE_COUNT	82554054
+MAP	MAP	154740195000
+MAP	WRITE	80255647000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	14934288000
+MAP	SERIALIZE_OUTPUT	30283081000
+MAP	MAP_MEM	212231624
+SPILL	SORT_AND_SPILL	7300250000
+SPILL	QUICK_SORT	3626258000
+SPILL	SORT_COUNT	2387877
+SPILL	COMBINE	3438651000
+SPILL	WRITE	474862000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	4187219
+SPILL	COMPRESS_BYTE_COUNT	4187327
+MERGE	TOTAL_MERGE	2256984000
+MERGE	READ_WRITE	2018353000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	166469912000
@@ -0,0 +1,51 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt2/part-00067	0
+MAP	STARTUP_MEM	213621824
+MAP	SETUP	483000
+MAP	SETUP_MEM	213621824
+SPILL	SORT_AND_SPILL	32771346000
+SPILL	QUICK_SORT	20513946000
+SPILL	SORT_COUNT	5242880
+SPILL	COMBINE	10048357000
+SPILL	WRITE	843404000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7438702
+SPILL	COMPRESS_BYTE_COUNT	7438810
+SPILL	SORT_AND_SPILL	31136961000
+SPILL	QUICK_SORT	18671409000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	12016694000
+SPILL	WRITE	3687407000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7336131
+SPILL	COMPRESS_BYTE_COUNT	7336239
+MAP	CLEANUP	85000
+MAP	CLEANUP_MEM	213211880
+MAP	TOTAL_RUN	162738609000
+MAP	READ	2631376000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	378370
+MAP	VALUE_BYTE_COUNT	82319185
+MAP	MAP	158884053000
+MAP	WRITE	88742880000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	18619421000
+MAP	SERIALIZE_OUTPUT	34245543000
+MAP	MAP_MEM	213211880
+SPILL	SORT_AND_SPILL	6819870000
+SPILL	QUICK_SORT	3470025000
+SPILL	SORT_COUNT	2310887
+SPILL	COMBINE	3074451000
+SPILL	WRITE	397374000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	3990142
+SPILL	COMPRESS_BYTE_COUNT	3990250
+MERGE	TOTAL_MERGE	2152566000
+MERGE	READ_WRITE	1851416000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	172176684000
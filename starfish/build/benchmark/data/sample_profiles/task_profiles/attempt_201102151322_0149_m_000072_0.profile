@@ -0,0 +1,51 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt2/part-00046	0
+MAP	STARTUP_MEM	213621008
+MAP	SETUP	494000
+MAP	SETUP_MEM	213621008
+SPILL	SORT_AND_SPILL	30759803000
+SPILL	QUICK_SORT	23286001000
+SPILL	SORT_COUNT	5242880
+SPILL	COMBINE	6823659000
+SPILL	WRITE	778583000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7000757
+SPILL	COMPRESS_BYTE_COUNT	7000865
+SPILL	SORT_AND_SPILL	27287821000
+SPILL	QUICK_SORT	14866057000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	11012665000
+SPILL	WRITE	1382763000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	8084604
+SPILL	COMPRESS_BYTE_COUNT	8084712
+MAP	CLEANUP	95000
+MAP	CLEANUP_MEM	211892272
+MAP	TOTAL_RUN	153463647000
+MAP	READ	2185439000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	373085
+MAP	VALUE_BYTE_COUNT	80477068
+MAP	MAP	151074352000
+MAP	WRITE	86855537000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	14412686000
+MAP	SERIALIZE_OUTPUT	37477503000
+MAP	MAP_MEM	211892272
+SPILL	SORT_AND_SPILL	6054923000
+SPILL	QUICK_SORT	2904616000
+SPILL	SORT_COUNT	1963154
+SPILL	COMBINE	2951533000
+SPILL	WRITE	484758000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	3556804
+SPILL	COMPRESS_BYTE_COUNT	3556912
+MERGE	TOTAL_MERGE	2113451000
+MERGE	READ_WRITE	1891976000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	162838334000
@@ -0,0 +1,51 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt2/part-00068	0
+MAP	STARTUP_MEM	213625816
+MAP	SETUP	505000
+MAP	SETUP_MEM	213625816
+SPILL	SORT_AND_SPILL	30395755000
+SPILL	QUICK_SORT	20120169000
+SPILL	SORT_COUNT	5242880
+SPILL	COMBINE	9886574000
+SPILL	WRITE	886359000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7139825
+SPILL	COMPRESS_BYTE_COUNT	7139933
+SPILL	SORT_AND_SPILL	28826275000
+SPILL	QUICK_SORT	16550688000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	10230353000
+SPILL	WRITE	1039581000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7266857
+SPILL	COMPRESS_BYTE_COUNT	7266965
+MAP	CLEANUP	87000
+MAP	CLEANUP_MEM	213765552
+MAP	TOTAL_RUN	150349437000
+MAP	READ	1297812000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	378935
+MAP	VALUE_BYTE_COUNT	80089304
+MAP	MAP	147644679000
+MAP	WRITE	90152727000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	18003985000
+MAP	SERIALIZE_OUTPUT	31945622000
+MAP	MAP_MEM	213765552
+SPILL	SORT_AND_SPILL	5602586000
+SPILL	QUICK_SORT	2693384000
+SPILL	SORT_COUNT	1882789
+SPILL	COMBINE	2710288000
+SPILL	WRITE	415424000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	3520595
+SPILL	COMPRESS_BYTE_COUNT	3520703
+MERGE	TOTAL_MERGE	2169062000
+MERGE	READ_WRITE	1956837000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	158580994000
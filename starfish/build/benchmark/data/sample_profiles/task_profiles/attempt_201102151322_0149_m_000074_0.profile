@@ -0,0 +1,51 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt2/part-00007	0
+MAP	STARTUP_MEM	212763464
+MAP	SETUP	457000
+MAP	SETUP_MEM	212763464
+SPILL	SORT_AND_SPILL	24583090510
+SPILL	QUICK_SORT	13291675510
+SPILL	SORT_COUNT	5242880
+SPILL	COMBINE	10854824000
+SPILL	WRITE	1085271000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7014838
+SPILL	COMPRESS_BYTE_COUNT	7014946
+SPILL	SORT_AND_SPILL	24584504000
+SPILL	QUICK_SORT	12324685000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	11900321000
+SPILL	WRITE	1275122000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7473795
+SPILL	COMPRESS_BYTE_COUNT	7473903
+MAP	CLEANUP	46000
+MAP	CLEANUP_MEM	210956216
+MAP	TOTAL_RUN	165025558515
+MAP	READ	1387109000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	134532
+MAP	VALUE_BYTE_COUNT	77821245
+MAP	MAP	163307291515
+MAP	WRITE	91038450731
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	17443950000
+MAP	SERIALIZE_OUTPUT	26132265510
+MAP	MAP_MEM	210956216
+SPILL	SORT_AND_SPILL	5202984000
+SPILL	QUICK_SORT	2079589000
+SPILL	SORT_COUNT	1692177
+SPILL	COMBINE	2983712000
+SPILL	WRITE	380102000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	3224345
+SPILL	COMPRESS_BYTE_COUNT	3224453
+MERGE	TOTAL_MERGE	3888373000
+MERGE	READ_WRITE	3778183000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	174694461515
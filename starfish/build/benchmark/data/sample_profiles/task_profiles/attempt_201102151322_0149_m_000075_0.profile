@@ -0,0 +1,51 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt2/part-00070	0
+MAP	STARTUP_MEM	215315728
+MAP	SETUP	487000
+MAP	SETUP_MEM	215315728
+SPILL	SORT_AND_SPILL	24650898000
+SPILL	QUICK_SORT	12551911000
+SPILL	SORT_COUNT	5242880
+SPILL	COMBINE	11646571000
+SPILL	WRITE	1435221000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7349353
+SPILL	COMPRESS_BYTE_COUNT	7349461
+SPILL	SORT_AND_SPILL	27945885000
+SPILL	QUICK_SORT	13440949000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	13606682000
+SPILL	WRITE	1721996000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7262903
+SPILL	COMPRESS_BYTE_COUNT	7263011
+MAP	CLEANUP	82000
+MAP	CLEANUP_MEM	214817560
+MAP	TOTAL_RUN	169171446294
+MAP	READ	1703003000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	382649
+MAP	VALUE_BYTE_COUNT	77725261
+MAP	MAP	167192801294
+MAP	WRITE	92237193510
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	19533890000
+MAP	SERIALIZE_OUTPUT	27845226000
+MAP	MAP_MEM	214817560
+SPILL	SORT_AND_SPILL	4612198026
+SPILL	QUICK_SORT	1872159026
+SPILL	SORT_COUNT	1584998
+SPILL	COMBINE	2554854000
+SPILL	WRITE	369506000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	2936149
+SPILL	COMPRESS_BYTE_COUNT	2936257
+MERGE	TOTAL_MERGE	1949322000
+MERGE	READ_WRITE	1733684000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	176238250320
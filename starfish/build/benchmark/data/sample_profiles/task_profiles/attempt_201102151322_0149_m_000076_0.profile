@@ -0,0 +1,51 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt2/part-00069	0
+MAP	STARTUP_MEM	212752616
+MAP	SETUP	427000
+MAP	SETUP_MEM	212752616
+SPILL	SORT_AND_SPILL	27145605000
+SPILL	QUICK_SORT	15738864000
+SPILL	SORT_COUNT	5242880
+SPILL	COMBINE	11016783000
+SPILL	WRITE	889824000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7331365
+SPILL	COMPRESS_BYTE_COUNT	7331473
+SPILL	SORT_AND_SPILL	29020876000
+SPILL	QUICK_SORT	12808619000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	14265386000
+SPILL	WRITE	1441041000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7127952
+SPILL	COMPRESS_BYTE_COUNT	7128060
+MAP	CLEANUP	79000
+MAP	CLEANUP_MEM	215090904
+MAP	TOTAL_RUN	149154832000
+MAP	READ	1653588000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	347776
+MAP	VALUE_BYTE_COUNT	77375235
+MAP	MAP	147332829000
+MAP	WRITE	84717734000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	13209294000
+MAP	SERIALIZE_OUTPUT	29193290000
+MAP	MAP_MEM	215090904
+SPILL	SORT_AND_SPILL	4443951000
+SPILL	QUICK_SORT	1999389000
+SPILL	SORT_COUNT	1579325
+SPILL	COMBINE	2251785000
+SPILL	WRITE	298960000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	2870731
+SPILL	COMPRESS_BYTE_COUNT	2870839
+MERGE	TOTAL_MERGE	2030634000
+MERGE	READ_WRITE	1806796000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	156130245000
@@ -0,0 +1,51 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt2/part-00043	0
+MAP	STARTUP_MEM	212763912
+MAP	SETUP	539000
+MAP	SETUP_MEM	212763912
+SPILL	SORT_AND_SPILL	31571719000
+SPILL	QUICK_SORT	18349080000
+SPILL	SORT_COUNT	5242880
+SPILL	COMBINE	12614627000
+SPILL	WRITE	828937000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7324334
+SPILL	COMPRESS_BYTE_COUNT	7324442
+MAP	CLEANUP	129000
+MAP	CLEANUP_MEM	215552072
+MAP	TOTAL_RUN	142372321000
+MAP	READ	1492291000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	335070
+MAP	VALUE_BYTE_COUNT	73858223
+MAP	MAP	140653310000
+MAP	WRITE	75982275000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	15426772000
+MAP	SERIALIZE_OUTPUT	23513255000
+MAP	MAP_MEM	215552072
+SPILL	SORT_AND_SPILL	23865451000
+SPILL	QUICK_SORT	14376423000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	8990976000
+SPILL	WRITE	1007454000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7635599
+SPILL	COMPRESS_BYTE_COUNT	7635707
+SPILL	SORT_AND_SPILL	2963890000
+SPILL	QUICK_SORT	1294295000
+SPILL	SORT_COUNT	1026921
+SPILL	COMBINE	1610791000
+SPILL	WRITE	232204000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	2237418
+SPILL	COMPRESS_BYTE_COUNT	2237526
+MERGE	TOTAL_MERGE	2039951000
+MERGE	READ_WRITE	1788571000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	153495427000
@@ -0,0 +1,51 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt2/part-00071	0
+MAP	STARTUP_MEM	212764728
+MAP	SETUP	440000
+MAP	SETUP_MEM	212764728
+SPILL	SORT_AND_SPILL	34133175000
+SPILL	QUICK_SORT	20142699000
+SPILL	SORT_COUNT	5242880
+SPILL	COMBINE	11799631000
+SPILL	WRITE	1063070000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7543133
+SPILL	COMPRESS_BYTE_COUNT	7543241
+MAP	CLEANUP	112000
+MAP	CLEANUP_MEM	215272568
+MAP	TOTAL_RUN	133747703000
+MAP	READ	1393334000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	350209
+MAP	VALUE_BYTE_COUNT	69423455
+MAP	MAP	132173574000
+MAP	WRITE	82575339000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	12659295000
+MAP	SERIALIZE_OUTPUT	37705642000
+MAP	MAP_MEM	215272568
+SPILL	SORT_AND_SPILL	18353186000
+SPILL	QUICK_SORT	11147506000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	6851699000
+SPILL	WRITE	771441000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7512958
+SPILL	COMPRESS_BYTE_COUNT	7513066
+SPILL	SORT_AND_SPILL	401198000
+SPILL	QUICK_SORT	89542000
+SPILL	SORT_COUNT	137791
+SPILL	COMBINE	300086000
+SPILL	WRITE	56621000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	473099
+SPILL	COMPRESS_BYTE_COUNT	473207
+MERGE	TOTAL_MERGE	2047016000
+MERGE	READ_WRITE	1749504000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	149366397000
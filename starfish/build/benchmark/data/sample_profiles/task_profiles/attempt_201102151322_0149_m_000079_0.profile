@@ -0,0 +1,51 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt2/part-00002	0
+MAP	STARTUP_MEM	213590912
+MAP	SETUP	478000
+MAP	SETUP_MEM	213590912
+SPILL	SORT_AND_SPILL	21120847000
+SPILL	QUICK_SORT	12853776000
+SPILL	SORT_COUNT	5242880
+SPILL	COMBINE	7796418000
+SPILL	WRITE	678803000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	3891866
+SPILL	COMPRESS_BYTE_COUNT	3891974
+MAP	CLEANUP	104000
+MAP	CLEANUP_MEM	212969624
+MAP	TOTAL_RUN	106282254000
+MAP	READ	1112787000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	152496
+MAP	VALUE_BYTE_COUNT	63952075
+MAP	MAP	105086065000
+MAP	WRITE	60259885000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	10740209000
+MAP	SERIALIZE_OUTPUT	21850219000
+MAP	MAP_MEM	213045608
+SPILL	SORT_AND_SPILL	13190708000
+SPILL	QUICK_SORT	7512074000
+SPILL	SORT_COUNT	5242879
+SPILL	COMBINE	5292714000
+SPILL	WRITE	478702000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	4604249
+SPILL	COMPRESS_BYTE_COUNT	4604357
+SPILL	SORT_AND_SPILL	37385000
+SPILL	QUICK_SORT	3409000
+SPILL	SORT_COUNT	8310
+SPILL	COMBINE	31063000
+SPILL	WRITE	3595000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	33034
+SPILL	COMPRESS_BYTE_COUNT	33142
+MERGE	TOTAL_MERGE	1057352000
+MERGE	READ_WRITE	857317000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	120885273000
@@ -0,0 +1,43 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt2/part-00009	0
+MAP	STARTUP_MEM	215782064
+MAP	SETUP	453000
+MAP	SETUP_MEM	215782064
+SPILL	SORT_AND_SPILL	30091060000
+SPILL	QUICK_SORT	19154380000
+SPILL	SORT_COUNT	5242880
+SPILL	COMBINE	10476184000
+SPILL	WRITE	2454863000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7334120
+SPILL	COMPRESS_BYTE_COUNT	7334228
+MAP	CLEANUP	56000
+MAP	CLEANUP_MEM	215625008
+MAP	TOTAL_RUN	112055511000
+MAP	READ	2056400000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	123210
+MAP	VALUE_BYTE_COUNT	62866868
+MAP	MAP	109908943000
+MAP	WRITE	62812895000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	9760984000
+MAP	SERIALIZE_OUTPUT	22710651000
+MAP	MAP_MEM	215625008
+SPILL	SORT_AND_SPILL	16813213000
+SPILL	QUICK_SORT	8947175000
+SPILL	SORT_COUNT	4704631
+SPILL	COMBINE	7326566000
+SPILL	WRITE	955193000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	6911710
+SPILL	COMPRESS_BYTE_COUNT	6911818
+MERGE	TOTAL_MERGE	1772286000
+MERGE	READ_WRITE	1534730000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	139142766000
@@ -0,0 +1,43 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt2/part-00008	0
+MAP	STARTUP_MEM	213649056
+MAP	SETUP	520000
+MAP	SETUP_MEM	213649056
+SPILL	SORT_AND_SPILL	31720127000
+SPILL	QUICK_SORT	12792748000
+SPILL	SORT_COUNT	5242880
+SPILL	COMBINE	18371221000
+SPILL	WRITE	2873942000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7240490
+SPILL	COMPRESS_BYTE_COUNT	7240598
+MAP	CLEANUP	43000
+MAP	CLEANUP_MEM	211659240
+MAP	TOTAL_RUN	125696604740
+MAP	READ	1298700000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	117477
+MAP	VALUE_BYTE_COUNT	62072643
+MAP	MAP	124318760740
+MAP	WRITE	71317006000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	13352893000
+MAP	SERIALIZE_OUTPUT	21593682000
+MAP	MAP_MEM	211746352
+SPILL	SORT_AND_SPILL	15312299000
+SPILL	QUICK_SORT	8006768000
+SPILL	SORT_COUNT	4564940
+SPILL	COMBINE	6982135000
+SPILL	WRITE	963990000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	6630940
+SPILL	COMPRESS_BYTE_COUNT	6631048
+MERGE	TOTAL_MERGE	1423347000
+MERGE	READ_WRITE	1391265000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	142973487740
@@ -0,0 +1,43 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt2/part-00010	0
+MAP	STARTUP_MEM	212766560
+MAP	SETUP	475000
+MAP	SETUP_MEM	212766560
+SPILL	SORT_AND_SPILL	28403024000
+SPILL	QUICK_SORT	14242331000
+SPILL	SORT_COUNT	5242880
+SPILL	COMBINE	13496768000
+SPILL	WRITE	1390708000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7397100
+SPILL	COMPRESS_BYTE_COUNT	7397208
+MAP	CLEANUP	41000
+MAP	CLEANUP_MEM	215003592
+MAP	TOTAL_RUN	130213317740
+MAP	READ	1013326000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	128736
+MAP	VALUE_BYTE_COUNT	60863673
+MAP	MAP	129018373740
+MAP	WRITE	75112233000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	14602472000
+MAP	SERIALIZE_OUTPUT	22319080000
+MAP	MAP_MEM	215094640
+SPILL	SORT_AND_SPILL	15454074000
+SPILL	QUICK_SORT	8005560000
+SPILL	SORT_COUNT	4398352
+SPILL	COMBINE	7047374000
+SPILL	WRITE	896495000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	6197737
+SPILL	COMPRESS_BYTE_COUNT	6197845
+MERGE	TOTAL_MERGE	1344729000
+MERGE	READ_WRITE	1311464000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	147550609740
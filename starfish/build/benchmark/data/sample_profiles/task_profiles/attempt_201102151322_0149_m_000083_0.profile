@@ -0,0 +1,43 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt2/part-00011	0
+MAP	STARTUP_MEM	212801152
+MAP	SETUP	443000
+MAP	SETUP_MEM	212801152
+SPILL	SORT_AND_SPILL	27335340601
+SPILL	QUICK_SORT	14153367000
+SPILL	SORT_COUNT	5242880
+SPILL	COMBINE	12489666601
+SPILL	WRITE	1413963000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7313859
+SPILL	COMPRESS_BYTE_COUNT	7313967
+MAP	CLEANUP	43000
+MAP	CLEANUP_MEM	213762736
+MAP	TOTAL_RUN	116701772203
+MAP	READ	1083526000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	128781
+MAP	VALUE_BYTE_COUNT	57267309
+MAP	MAP	115524786203
+MAP	WRITE	71519086203
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	12261513000
+MAP	SERIALIZE_OUTPUT	24448653203
+MAP	MAP_MEM	214136008
+SPILL	SORT_AND_SPILL	13680831000
+SPILL	QUICK_SORT	7177991000
+SPILL	SORT_COUNT	3802928
+SPILL	COMBINE	6148088000
+SPILL	WRITE	761860000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	5792523
+SPILL	COMPRESS_BYTE_COUNT	5792631
+MERGE	TOTAL_MERGE	1365188000
+MERGE	READ_WRITE	1328047000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	132584296203
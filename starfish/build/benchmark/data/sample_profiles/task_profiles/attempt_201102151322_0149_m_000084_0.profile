@@ -0,0 +1,43 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt2/part-00012	0
+MAP	STARTUP_MEM	213626784
+MAP	SETUP	573000
+MAP	SETUP_MEM	213626784
+SPILL	SORT_AND_SPILL	30863514000
+SPILL	QUICK_SORT	16336779000
+SPILL	SORT_COUNT	5242880
+SPILL	COMBINE	13747414000
+SPILL	WRITE	2179832000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7156095
+SPILL	COMPRESS_BYTE_COUNT	7156203
+MAP	CLEANUP	84000
+MAP	CLEANUP_MEM	215642336
+MAP	TOTAL_RUN	107048665000
+MAP	READ	885763000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	127017
+MAP	VALUE_BYTE_COUNT	55782453
+MAP	MAP	106087804000
+MAP	WRITE	53243243000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	8838983000
+MAP	SERIALIZE_OUTPUT	18227132000
+MAP	MAP_MEM	215642336
+SPILL	SORT_AND_SPILL	12667706000
+SPILL	QUICK_SORT	6757891000
+SPILL	SORT_COUNT	3597913
+SPILL	COMBINE	5552592000
+SPILL	WRITE	627227000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	5481185
+SPILL	COMPRESS_BYTE_COUNT	5481293
+MERGE	TOTAL_MERGE	1597426000
+MERGE	READ_WRITE	1266939000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	121953744000
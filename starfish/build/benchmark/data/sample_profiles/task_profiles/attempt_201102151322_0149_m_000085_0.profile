@@ -0,0 +1,43 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt2/part-00013	0
+MAP	STARTUP_MEM	212768464
+MAP	SETUP	427000
+MAP	SETUP_MEM	212768464
+SPILL	SORT_AND_SPILL	20913799000
+SPILL	QUICK_SORT	13143164000
+SPILL	SORT_COUNT	5242880
+SPILL	COMBINE	7310236000
+SPILL	WRITE	1073789000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7481911
+SPILL	COMPRESS_BYTE_COUNT	7482019
+MAP	CLEANUP	37000
+MAP	CLEANUP_MEM	213837608
+MAP	TOTAL_RUN	86556467000
+MAP	READ	1312634000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	121140
+MAP	VALUE_BYTE_COUNT	50778257
+MAP	MAP	85176030000
+MAP	WRITE	49914492000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	9261905000
+MAP	SERIALIZE_OUTPUT	20762055000
+MAP	MAP_MEM	214206944
+SPILL	SORT_AND_SPILL	7784093000
+SPILL	QUICK_SORT	3978197000
+SPILL	SORT_COUNT	2733769
+SPILL	COMBINE	3557320000
+SPILL	WRITE	483242000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	4513866
+SPILL	COMPRESS_BYTE_COUNT	4513974
+MERGE	TOTAL_MERGE	1193171000
+MERGE	READ_WRITE	1153071000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	96031924000
@@ -0,0 +1,43 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt2/part-00015	0
+MAP	STARTUP_MEM	213614312
+MAP	SETUP	537000
+MAP	SETUP_MEM	213614312
+SPILL	SORT_AND_SPILL	25509122602
+SPILL	QUICK_SORT	16243381602
+SPILL	SORT_COUNT	5242880
+SPILL	COMBINE	8780806000
+SPILL	WRITE	966794000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7234402
+SPILL	COMPRESS_BYTE_COUNT	7234510
+MAP	CLEANUP	42000
+MAP	CLEANUP_MEM	213768696
+MAP	TOTAL_RUN	97647829203
+MAP	READ	895524000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	126036
+MAP	VALUE_BYTE_COUNT	47038628
+MAP	MAP	96664645203
+MAP	WRITE	58153808203
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	9511629000
+MAP	SERIALIZE_OUTPUT	23972262203
+MAP	MAP_MEM	213768696
+SPILL	SORT_AND_SPILL	7683918000
+SPILL	QUICK_SORT	3463130000
+SPILL	SORT_COUNT	2233938
+SPILL	COMBINE	3975996000
+SPILL	WRITE	465912000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	3768030
+SPILL	COMPRESS_BYTE_COUNT	3768138
+MERGE	TOTAL_MERGE	1110691000
+MERGE	READ_WRITE	1072274000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	107519980203
@@ -0,0 +1,43 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt2/part-00014	0
+MAP	STARTUP_MEM	213673608
+MAP	SETUP	507000
+MAP	SETUP_MEM	213673608
+SPILL	SORT_AND_SPILL	25053495000
+SPILL	QUICK_SORT	14182463000
+SPILL	SORT_COUNT	5242880
+SPILL	COMBINE	10229910000
+SPILL	WRITE	1379810000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7314274
+SPILL	COMPRESS_BYTE_COUNT	7314382
+MAP	CLEANUP	42000
+MAP	CLEANUP_MEM	213269360
+MAP	TOTAL_RUN	99760156724
+MAP	READ	721504000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	112491
+MAP	VALUE_BYTE_COUNT	46120991
+MAP	MAP	98965614724
+MAP	WRITE	56152751724
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	10628131210
+MAP	SERIALIZE_OUTPUT	15509782514
+MAP	MAP_MEM	213269360
+SPILL	SORT_AND_SPILL	7210384000
+SPILL	QUICK_SORT	3038450000
+SPILL	SORT_COUNT	2053868
+SPILL	COMBINE	3952701000
+SPILL	WRITE	652183000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	3675502
+SPILL	COMPRESS_BYTE_COUNT	3675610
+MERGE	TOTAL_MERGE	1781940000
+MERGE	READ_WRITE	1574494000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	109505130724
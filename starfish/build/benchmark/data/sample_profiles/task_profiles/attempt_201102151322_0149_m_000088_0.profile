@@ -0,0 +1,43 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt2/part-00016	0
+MAP	STARTUP_MEM	213629456
+MAP	SETUP	495000
+MAP	SETUP_MEM	213629456
+SPILL	SORT_AND_SPILL	24548314000
+SPILL	QUICK_SORT	13991919000
+SPILL	SORT_COUNT	5242880
+SPILL	COMBINE	10068050000
+SPILL	WRITE	1516082000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7267538
+SPILL	COMPRESS_BYTE_COUNT	7267646
+MAP	CLEANUP	40000
+MAP	CLEANUP_MEM	211786208
+MAP	TOTAL_RUN	88781290724
+MAP	READ	674872000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	114768
+MAP	VALUE_BYTE_COUNT	40275029
+MAP	MAP	88034753724
+MAP	WRITE	50279537514
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	9453328000
+MAP	SERIALIZE_OUTPUT	14597616000
+MAP	MAP_MEM	212159480
+SPILL	SORT_AND_SPILL	5100537000
+SPILL	QUICK_SORT	1845195000
+SPILL	SORT_COUNT	1143395
+SPILL	COMBINE	3127648000
+SPILL	WRITE	473919000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	2293522
+SPILL	COMPRESS_BYTE_COUNT	2293630
+MERGE	TOTAL_MERGE	1376361000
+MERGE	READ_WRITE	1333176000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	96172444724
@@ -0,0 +1,43 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt2/part-00018	0
+MAP	STARTUP_MEM	212775304
+MAP	SETUP	483000
+MAP	SETUP_MEM	212775304
+MAP	CLEANUP	92000
+MAP	CLEANUP_MEM	213877712
+MAP	TOTAL_RUN	69052619925
+MAP	READ	678550000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	106389
+MAP	VALUE_BYTE_COUNT	35622992
+MAP	MAP	68282051925
+MAP	WRITE	38893312925
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	7875658000
+MAP	SERIALIZE_OUTPUT	12446330000
+MAP	MAP_MEM	213877712
+SPILL	SORT_AND_SPILL	23382882925
+SPILL	QUICK_SORT	12551705000
+SPILL	SORT_COUNT	5242880
+SPILL	COMBINE	10333514925
+SPILL	WRITE	1396103000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	7420417
+SPILL	COMPRESS_BYTE_COUNT	7420525
+SPILL	SORT_AND_SPILL	1095100000
+SPILL	QUICK_SORT	305299000
+SPILL	SORT_COUNT	372262
+SPILL	COMBINE	771348000
+SPILL	WRITE	115147000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	949681
+SPILL	COMPRESS_BYTE_COUNT	949789
+MERGE	TOTAL_MERGE	954589000
+MERGE	READ_WRITE	803374000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	83399024850
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt2/part-00019	0
+MAP	STARTUP_MEM	213638760
+MAP	SETUP	454000
+MAP	SETUP_MEM	213638760
+MAP	CLEANUP	61000
+MAP	CLEANUP_MEM	215769888
+MAP	TOTAL_RUN	42656093000
+MAP	READ	486232000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	86913
+MAP	VALUE_BYTE_COUNT	28751599
+MAP	MAP	42123417000
+MAP	WRITE	23502502000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	4894113000
+MAP	SERIALIZE_OUTPUT	7827623000
+MAP	MAP_MEM	215769888
+SPILL	SORT_AND_SPILL	20882776000
+SPILL	QUICK_SORT	8264177000
+SPILL	SORT_COUNT	4544774
+SPILL	COMBINE	12053991000
+SPILL	WRITE	1728135000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	6508368
+SPILL	COMPRESS_BYTE_COUNT	6508476
+MERGE	TOTAL_MERGE	192435000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	64202439000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt2/part-00020	0
+MAP	STARTUP_MEM	212762312
+MAP	SETUP	425000
+MAP	SETUP_MEM	212762312
+MAP	CLEANUP	64000
+MAP	CLEANUP_MEM	214763120
+MAP	TOTAL_RUN	36808591000
+MAP	READ	482437000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	67545
+MAP	VALUE_BYTE_COUNT	24259664
+MAP	MAP	36288425000
+MAP	WRITE	20149090000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	3818353000
+MAP	SERIALIZE_OUTPUT	6458015000
+MAP	MAP_MEM	214763120
+SPILL	SORT_AND_SPILL	11679210000
+SPILL	QUICK_SORT	6009314000
+SPILL	SORT_COUNT	3800828
+SPILL	COMBINE	5237827000
+SPILL	WRITE	665204000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	5838472
+SPILL	COMPRESS_BYTE_COUNT	5838580
+MERGE	TOTAL_MERGE	1452000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	48968648000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt2/part-00017	0
+MAP	STARTUP_MEM	213656952
+MAP	SETUP	495000
+MAP	SETUP_MEM	213656952
+MAP	CLEANUP	63000
+MAP	CLEANUP_MEM	213191480
+MAP	TOTAL_RUN	43168932000
+MAP	READ	412049000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	73854
+MAP	VALUE_BYTE_COUNT	24226218
+MAP	MAP	42708769000
+MAP	WRITE	25991320000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	5004679000
+MAP	SERIALIZE_OUTPUT	8517434000
+MAP	MAP_MEM	213191480
+SPILL	SORT_AND_SPILL	23138024925
+SPILL	QUICK_SORT	11413122925
+SPILL	SORT_COUNT	3812889
+SPILL	COMBINE	11415005000
+SPILL	WRITE	1918035000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	5949161
+SPILL	COMPRESS_BYTE_COUNT	5949269
+MERGE	TOTAL_MERGE	1449000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	66936321925
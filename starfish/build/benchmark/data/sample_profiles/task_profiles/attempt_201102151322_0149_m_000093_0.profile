@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt2/part-00022	0
+MAP	STARTUP_MEM	212755536
+MAP	SETUP	438000
+MAP	SETUP_MEM	212755536
+MAP	CLEANUP	56000
+MAP	CLEANUP_MEM	211617064
+MAP	TOTAL_RUN	37896589000
+MAP	READ	394943000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	70731
+MAP	VALUE_BYTE_COUNT	23458031
+MAP	MAP	37461701000
+MAP	WRITE	20342941000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	3995755000
+MAP	SERIALIZE_OUTPUT	7072121000
+MAP	MAP_MEM	211617064
+SPILL	SORT_AND_SPILL	11139302000
+SPILL	QUICK_SORT	6011002000
+SPILL	SORT_COUNT	3718503
+SPILL	COMBINE	4762082000
+SPILL	WRITE	594423000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	5568001
+SPILL	COMPRESS_BYTE_COUNT	5568109
+MERGE	TOTAL_MERGE	1485000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	51116597000
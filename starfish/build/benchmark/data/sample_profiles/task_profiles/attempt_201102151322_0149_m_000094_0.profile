@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt2/part-00021	0
+MAP	STARTUP_MEM	213627992
+MAP	SETUP	445000
+MAP	SETUP_MEM	213627992
+MAP	CLEANUP	55000
+MAP	CLEANUP_MEM	212911032
+MAP	TOTAL_RUN	29674545000
+MAP	READ	358977000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	60975
+MAP	VALUE_BYTE_COUNT	20014292
+MAP	MAP	29271975000
+MAP	WRITE	16449909000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	3209543000
+MAP	SERIALIZE_OUTPUT	5308922000
+MAP	MAP_MEM	212911032
+SPILL	SORT_AND_SPILL	8965148000
+SPILL	QUICK_SORT	4551288000
+SPILL	SORT_COUNT	3171483
+SPILL	COMBINE	4182876000
+SPILL	WRITE	524076000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	4985724
+SPILL	COMPRESS_BYTE_COUNT	4985832
+MERGE	TOTAL_MERGE	1443000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	39171499000
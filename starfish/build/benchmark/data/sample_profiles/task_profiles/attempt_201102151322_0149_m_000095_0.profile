@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt2/part-00023	0
+MAP	STARTUP_MEM	213635264
+MAP	SETUP	539000
+MAP	SETUP_MEM	213635264
+MAP	CLEANUP	60000
+MAP	CLEANUP_MEM	212663952
+MAP	TOTAL_RUN	29740485000
+MAP	READ	439018000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	55026
+MAP	VALUE_BYTE_COUNT	17575917
+MAP	MAP	29262990000
+MAP	WRITE	17169617000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	3469233000
+MAP	SERIALIZE_OUTPUT	5114922000
+MAP	MAP_MEM	213226112
+SPILL	SORT_AND_SPILL	9082300000
+SPILL	QUICK_SORT	4067938000
+SPILL	SORT_COUNT	2784775
+SPILL	COMBINE	4594404000
+SPILL	WRITE	716153000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	4574402
+SPILL	COMPRESS_BYTE_COUNT	4574510
+MERGE	TOTAL_MERGE	1518000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	40975624000
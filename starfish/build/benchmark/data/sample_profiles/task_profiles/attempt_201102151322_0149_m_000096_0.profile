@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/wiki/txt2/part-00024	0
+MAP	STARTUP_MEM	213612288
+MAP	SETUP	476000
+MAP	SETUP_MEM	213612288
+MAP	CLEANUP	57000
+MAP	CLEANUP_MEM	213198056
+MAP	TOTAL_RUN	21232954000
+MAP	READ	271796000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	44379
+MAP	VALUE_BYTE_COUNT	13487427
+MAP	MAP	20934119000
+MAP	WRITE	11567193000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	2350324000
+MAP	SERIALIZE_OUTPUT	3733548000
+MAP	MAP_MEM	213760216
+SPILL	SORT_AND_SPILL	6325336000
+SPILL	QUICK_SORT	3230568000
+SPILL	SORT_COUNT	2135237
+SPILL	COMBINE	2892978000
+SPILL	WRITE	389097000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	3748755
+SPILL	COMPRESS_BYTE_COUNT	3748863
+MERGE	TOTAL_MERGE	132922000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	28190413000
@@ -0,0 +1,410 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1014898
+SHUFFLE	COMPRESS_BYTE_COUNT	1014902
+SHUFFLE	COPY_MAP_DATA	436426000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	994900
+SHUFFLE	COMPRESS_BYTE_COUNT	994904
+SHUFFLE	COPY_MAP_DATA	111400000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1029919
+SHUFFLE	COMPRESS_BYTE_COUNT	1029923
+SHUFFLE	COPY_MAP_DATA	79764000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1097253
+SHUFFLE	COMPRESS_BYTE_COUNT	1097257
+SHUFFLE	COPY_MAP_DATA	28931000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	800606
+SHUFFLE	COMPRESS_BYTE_COUNT	800610
+SHUFFLE	COPY_MAP_DATA	64096000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1062586
+SHUFFLE	COMPRESS_BYTE_COUNT	1062590
+SHUFFLE	COPY_MAP_DATA	26192000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1108538
+SHUFFLE	COMPRESS_BYTE_COUNT	1108542
+SHUFFLE	COPY_MAP_DATA	291420000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1145679
+SHUFFLE	COMPRESS_BYTE_COUNT	1145683
+SHUFFLE	COPY_MAP_DATA	5248997000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1065185
+SHUFFLE	COMPRESS_BYTE_COUNT	1065189
+SHUFFLE	COPY_MAP_DATA	1825346000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1096507
+SHUFFLE	COMPRESS_BYTE_COUNT	1096511
+SHUFFLE	COPY_MAP_DATA	1263874000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1079121
+SHUFFLE	COMPRESS_BYTE_COUNT	1079125
+SHUFFLE	COPY_MAP_DATA	33042000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1116815
+SHUFFLE	COMPRESS_BYTE_COUNT	1116819
+SHUFFLE	COPY_MAP_DATA	104818000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1118081
+SHUFFLE	COMPRESS_BYTE_COUNT	1118085
+SHUFFLE	COPY_MAP_DATA	176446000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1135562
+SHUFFLE	COMPRESS_BYTE_COUNT	1135566
+SHUFFLE	COPY_MAP_DATA	29387000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1115880
+SHUFFLE	COMPRESS_BYTE_COUNT	1115884
+SHUFFLE	COPY_MAP_DATA	14113000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1025556
+SHUFFLE	COMPRESS_BYTE_COUNT	1025560
+SHUFFLE	COPY_MAP_DATA	1063791000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1138192
+SHUFFLE	COMPRESS_BYTE_COUNT	1138196
+SHUFFLE	COPY_MAP_DATA	18698000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1109699
+SHUFFLE	COMPRESS_BYTE_COUNT	1109703
+SHUFFLE	COPY_MAP_DATA	4416684000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	939623
+SHUFFLE	COMPRESS_BYTE_COUNT	939627
+SHUFFLE	COPY_MAP_DATA	18577000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1234302
+SHUFFLE	COMPRESS_BYTE_COUNT	1234306
+SHUFFLE	COPY_MAP_DATA	24818000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1083090
+SHUFFLE	COMPRESS_BYTE_COUNT	1083094
+SHUFFLE	COPY_MAP_DATA	18074000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1116834
+SHUFFLE	COMPRESS_BYTE_COUNT	1116838
+SHUFFLE	COPY_MAP_DATA	21113000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1120104
+SHUFFLE	COMPRESS_BYTE_COUNT	1120108
+SHUFFLE	COPY_MAP_DATA	43310000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1119118
+SHUFFLE	COMPRESS_BYTE_COUNT	1119122
+SHUFFLE	COPY_MAP_DATA	33644000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1106725
+SHUFFLE	COMPRESS_BYTE_COUNT	1106729
+SHUFFLE	COPY_MAP_DATA	30643000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1003621
+SHUFFLE	COMPRESS_BYTE_COUNT	1003625
+SHUFFLE	COPY_MAP_DATA	25218000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1083932
+SHUFFLE	COMPRESS_BYTE_COUNT	1083936
+SHUFFLE	COPY_MAP_DATA	343441000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1174093
+SHUFFLE	COMPRESS_BYTE_COUNT	1174097
+SHUFFLE	COPY_MAP_DATA	168591000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1087409
+SHUFFLE	COMPRESS_BYTE_COUNT	1087413
+SHUFFLE	COPY_MAP_DATA	42757000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	992313
+SHUFFLE	COMPRESS_BYTE_COUNT	992317
+SHUFFLE	COPY_MAP_DATA	17490000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	790494
+SHUFFLE	COMPRESS_BYTE_COUNT	790498
+SHUFFLE	COPY_MAP_DATA	1758361000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	789739
+SHUFFLE	COMPRESS_BYTE_COUNT	789743
+SHUFFLE	COPY_MAP_DATA	258141000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	747397
+SHUFFLE	COMPRESS_BYTE_COUNT	747401
+SHUFFLE	COPY_MAP_DATA	16156000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	784779
+SHUFFLE	COMPRESS_BYTE_COUNT	784783
+SHUFFLE	COPY_MAP_DATA	73849000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	749619
+SHUFFLE	COMPRESS_BYTE_COUNT	749623
+SHUFFLE	COPY_MAP_DATA	24645000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	778166
+SHUFFLE	COMPRESS_BYTE_COUNT	778170
+SHUFFLE	COPY_MAP_DATA	16333000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	756091
+SHUFFLE	COMPRESS_BYTE_COUNT	756095
+SHUFFLE	COPY_MAP_DATA	3024649000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	849043
+SHUFFLE	COMPRESS_BYTE_COUNT	849047
+SHUFFLE	COPY_MAP_DATA	480453000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	845719
+SHUFFLE	COMPRESS_BYTE_COUNT	845723
+SHUFFLE	COPY_MAP_DATA	646757000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	748454
+SHUFFLE	COMPRESS_BYTE_COUNT	748458
+SHUFFLE	COPY_MAP_DATA	102230000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	840533
+SHUFFLE	COMPRESS_BYTE_COUNT	840537
+SHUFFLE	COPY_MAP_DATA	158295000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	753445
+SHUFFLE	COMPRESS_BYTE_COUNT	753449
+SHUFFLE	COPY_MAP_DATA	2580178000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	775261
+SHUFFLE	COMPRESS_BYTE_COUNT	775265
+SHUFFLE	COPY_MAP_DATA	4194026000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	748696
+SHUFFLE	COMPRESS_BYTE_COUNT	748700
+SHUFFLE	COPY_MAP_DATA	55409000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	758044
+SHUFFLE	COMPRESS_BYTE_COUNT	758048
+SHUFFLE	COPY_MAP_DATA	679628000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	772904
+SHUFFLE	COMPRESS_BYTE_COUNT	772908
+SHUFFLE	COPY_MAP_DATA	18818000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	749739
+SHUFFLE	COMPRESS_BYTE_COUNT	749743
+SHUFFLE	COPY_MAP_DATA	137164000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	708912
+SHUFFLE	COMPRESS_BYTE_COUNT	708916
+SHUFFLE	COPY_MAP_DATA	55394000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	776250
+SHUFFLE	COMPRESS_BYTE_COUNT	776254
+SHUFFLE	COPY_MAP_DATA	7987514000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	710842
+SHUFFLE	COMPRESS_BYTE_COUNT	710846
+SHUFFLE	COPY_MAP_DATA	88770000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	742219
+SHUFFLE	COMPRESS_BYTE_COUNT	742223
+SHUFFLE	COPY_MAP_DATA	9224000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1120659
+SHUFFLE	COMPRESS_BYTE_COUNT	1120663
+SHUFFLE	COPY_MAP_DATA	7591000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1107111
+SHUFFLE	COMPRESS_BYTE_COUNT	1107115
+SHUFFLE	COPY_MAP_DATA	633590000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	742323
+SHUFFLE	COMPRESS_BYTE_COUNT	742327
+SHUFFLE	COPY_MAP_DATA	120231000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1115756
+SHUFFLE	COMPRESS_BYTE_COUNT	1115760
+SHUFFLE	COPY_MAP_DATA	21057000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	973220
+SHUFFLE	COMPRESS_BYTE_COUNT	973224
+SHUFFLE	COPY_MAP_DATA	39250000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1125763
+SHUFFLE	COMPRESS_BYTE_COUNT	1125767
+SHUFFLE	COPY_MAP_DATA	61911000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1094762
+SHUFFLE	COMPRESS_BYTE_COUNT	1094766
+SHUFFLE	COPY_MAP_DATA	19451000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1149232
+SHUFFLE	COMPRESS_BYTE_COUNT	1149236
+SHUFFLE	COPY_MAP_DATA	340792000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	309482
+SHUFFLE	COMPRESS_BYTE_COUNT	309486
+SHUFFLE	COPY_MAP_DATA	10276000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	758940
+SHUFFLE	COMPRESS_BYTE_COUNT	758944
+SHUFFLE	COPY_MAP_DATA	44311000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	744109
+SHUFFLE	COMPRESS_BYTE_COUNT	744113
+SHUFFLE	COPY_MAP_DATA	340469000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	239340
+SHUFFLE	COMPRESS_BYTE_COUNT	239344
+SHUFFLE	COPY_MAP_DATA	12731000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	660054
+SHUFFLE	COMPRESS_BYTE_COUNT	660058
+SHUFFLE	COPY_MAP_DATA	157740000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	958259
+SHUFFLE	COMPRESS_BYTE_COUNT	958263
+SHUFFLE	COPY_MAP_DATA	234774000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	574397
+SHUFFLE	COMPRESS_BYTE_COUNT	574401
+SHUFFLE	COPY_MAP_DATA	129706000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	354430
+SHUFFLE	COMPRESS_BYTE_COUNT	354434
+SHUFFLE	COPY_MAP_DATA	11123000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	734574
+SHUFFLE	COMPRESS_BYTE_COUNT	734578
+SHUFFLE	COPY_MAP_DATA	13998000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	470068
+SHUFFLE	COMPRESS_BYTE_COUNT	470072
+SHUFFLE	COPY_MAP_DATA	13651000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	662533
+SHUFFLE	COMPRESS_BYTE_COUNT	662537
+SHUFFLE	COPY_MAP_DATA	13438000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	408862
+SHUFFLE	COMPRESS_BYTE_COUNT	408866
+SHUFFLE	COPY_MAP_DATA	11634000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	698876
+SHUFFLE	COMPRESS_BYTE_COUNT	698880
+SHUFFLE	COPY_MAP_DATA	143521000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	702942
+SHUFFLE	COMPRESS_BYTE_COUNT	702946
+SHUFFLE	COPY_MAP_DATA	2852185000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	726168
+SHUFFLE	COMPRESS_BYTE_COUNT	726172
+SHUFFLE	COPY_MAP_DATA	24427000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	139068
+SHUFFLE	COMPRESS_BYTE_COUNT	139072
+SHUFFLE	COPY_MAP_DATA	1234367000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	752404
+SHUFFLE	COMPRESS_BYTE_COUNT	752408
+SHUFFLE	COPY_MAP_DATA	15430000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	216090
+SHUFFLE	COMPRESS_BYTE_COUNT	216094
+SHUFFLE	COPY_MAP_DATA	8310000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	728568
+SHUFFLE	COMPRESS_BYTE_COUNT	728572
+SHUFFLE	COPY_MAP_DATA	16191000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	185572
+SHUFFLE	COMPRESS_BYTE_COUNT	185576
+SHUFFLE	COPY_MAP_DATA	6638000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	637921
+SHUFFLE	COMPRESS_BYTE_COUNT	637925
+SHUFFLE	COPY_MAP_DATA	2592708000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	207286
+SHUFFLE	COMPRESS_BYTE_COUNT	207290
+SHUFFLE	COPY_MAP_DATA	8009000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	508735
+SHUFFLE	COMPRESS_BYTE_COUNT	508739
+SHUFFLE	COPY_MAP_DATA	12689000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	316874
+SHUFFLE	COMPRESS_BYTE_COUNT	316878
+SHUFFLE	COPY_MAP_DATA	7428000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	219031
+SHUFFLE	COMPRESS_BYTE_COUNT	219035
+SHUFFLE	COPY_MAP_DATA	17455000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	657867
+SHUFFLE	COMPRESS_BYTE_COUNT	657871
+SHUFFLE	COPY_MAP_DATA	18460000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	169550
+SHUFFLE	COMPRESS_BYTE_COUNT	169554
+SHUFFLE	COPY_MAP_DATA	7857000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	502535
+SHUFFLE	COMPRESS_BYTE_COUNT	502539
+SHUFFLE	COPY_MAP_DATA	14109000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	485484
+SHUFFLE	COMPRESS_BYTE_COUNT	485488
+SHUFFLE	COPY_MAP_DATA	14792000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	650192
+SHUFFLE	COMPRESS_BYTE_COUNT	650196
+SHUFFLE	COPY_MAP_DATA	15818000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	527988
+SHUFFLE	COMPRESS_BYTE_COUNT	527992
+SHUFFLE	COPY_MAP_DATA	128071000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	715746
+SHUFFLE	COMPRESS_BYTE_COUNT	715750
+SHUFFLE	COPY_MAP_DATA	914435000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	693467
+SHUFFLE	COMPRESS_BYTE_COUNT	693471
+SHUFFLE	COPY_MAP_DATA	16117000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	640895
+SHUFFLE	COMPRESS_BYTE_COUNT	640899
+SHUFFLE	COPY_MAP_DATA	226107000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	443717
+SHUFFLE	COMPRESS_BYTE_COUNT	443721
+SHUFFLE	COPY_MAP_DATA	13422000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	747112
+SHUFFLE	COMPRESS_BYTE_COUNT	747116
+SHUFFLE	COPY_MAP_DATA	24369000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	410873
+SHUFFLE	COMPRESS_BYTE_COUNT	410877
+SHUFFLE	COPY_MAP_DATA	11048000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	793506
+SHUFFLE	COMPRESS_BYTE_COUNT	793510
+SHUFFLE	COPY_MAP_DATA	7722000
+SHUFFLE	UNCOMPRESS	0
+SORT	MERGE_MAP_DATA	9808927000
+SORT	READ_WRITE	9739751000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	74099416
+REDUCE	SETUP	340000
+REDUCE	SETUP_MEM	74101464
+REDUCE	CLEANUP	33000
+REDUCE	CLEANUP_MEM	96199096
+REDUCE	TOTAL_RUN	15927964000
+REDUCE	READ	876802000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	9459113000
+REDUCE	WRITE	2664680000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	11651384
+REDUCE	VALUE_BYTE_COUNT	1194395
+REDUCE	REDUCE_MEM	96199096
+REDUCE	WRITE	7738000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	516332682000
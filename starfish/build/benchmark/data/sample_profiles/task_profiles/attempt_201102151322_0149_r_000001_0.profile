@@ -0,0 +1,410 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	801879
+SHUFFLE	COMPRESS_BYTE_COUNT	801883
+SHUFFLE	COPY_MAP_DATA	132362000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1022261
+SHUFFLE	COMPRESS_BYTE_COUNT	1022265
+SHUFFLE	COPY_MAP_DATA	1739474000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1045281
+SHUFFLE	COMPRESS_BYTE_COUNT	1045285
+SHUFFLE	COPY_MAP_DATA	283740000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1012516
+SHUFFLE	COMPRESS_BYTE_COUNT	1012520
+SHUFFLE	COPY_MAP_DATA	807760000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1102433
+SHUFFLE	COMPRESS_BYTE_COUNT	1102437
+SHUFFLE	COPY_MAP_DATA	12225000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1076695
+SHUFFLE	COMPRESS_BYTE_COUNT	1076699
+SHUFFLE	COPY_MAP_DATA	56492000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1110825
+SHUFFLE	COMPRESS_BYTE_COUNT	1110829
+SHUFFLE	COPY_MAP_DATA	6905000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1109895
+SHUFFLE	COMPRESS_BYTE_COUNT	1109899
+SHUFFLE	COPY_MAP_DATA	44869000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1154915
+SHUFFLE	COMPRESS_BYTE_COUNT	1154919
+SHUFFLE	COPY_MAP_DATA	4586276000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1071635
+SHUFFLE	COMPRESS_BYTE_COUNT	1071639
+SHUFFLE	COPY_MAP_DATA	1639174000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1086644
+SHUFFLE	COMPRESS_BYTE_COUNT	1086648
+SHUFFLE	COPY_MAP_DATA	75851000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1118825
+SHUFFLE	COMPRESS_BYTE_COUNT	1118829
+SHUFFLE	COPY_MAP_DATA	3500225000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1116127
+SHUFFLE	COMPRESS_BYTE_COUNT	1116131
+SHUFFLE	COPY_MAP_DATA	90634000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1143138
+SHUFFLE	COMPRESS_BYTE_COUNT	1143142
+SHUFFLE	COPY_MAP_DATA	96254000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1123880
+SHUFFLE	COMPRESS_BYTE_COUNT	1123884
+SHUFFLE	COPY_MAP_DATA	117720000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1017467
+SHUFFLE	COMPRESS_BYTE_COUNT	1017471
+SHUFFLE	COPY_MAP_DATA	60948000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1140718
+SHUFFLE	COMPRESS_BYTE_COUNT	1140722
+SHUFFLE	COPY_MAP_DATA	4587018000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	955353
+SHUFFLE	COMPRESS_BYTE_COUNT	955357
+SHUFFLE	COPY_MAP_DATA	27377000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1116597
+SHUFFLE	COMPRESS_BYTE_COUNT	1116601
+SHUFFLE	COPY_MAP_DATA	59132000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1248368
+SHUFFLE	COMPRESS_BYTE_COUNT	1248372
+SHUFFLE	COPY_MAP_DATA	41876000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1088062
+SHUFFLE	COMPRESS_BYTE_COUNT	1088066
+SHUFFLE	COPY_MAP_DATA	2917960000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1121766
+SHUFFLE	COMPRESS_BYTE_COUNT	1121770
+SHUFFLE	COPY_MAP_DATA	3199465000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1117972
+SHUFFLE	COMPRESS_BYTE_COUNT	1117976
+SHUFFLE	COPY_MAP_DATA	1866646000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1127657
+SHUFFLE	COMPRESS_BYTE_COUNT	1127661
+SHUFFLE	COPY_MAP_DATA	296444000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1125814
+SHUFFLE	COMPRESS_BYTE_COUNT	1125818
+SHUFFLE	COPY_MAP_DATA	875622000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1021641
+SHUFFLE	COMPRESS_BYTE_COUNT	1021645
+SHUFFLE	COPY_MAP_DATA	224598000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1083573
+SHUFFLE	COMPRESS_BYTE_COUNT	1083577
+SHUFFLE	COPY_MAP_DATA	483232000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1096059
+SHUFFLE	COMPRESS_BYTE_COUNT	1096063
+SHUFFLE	COPY_MAP_DATA	660536000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1174556
+SHUFFLE	COMPRESS_BYTE_COUNT	1174560
+SHUFFLE	COPY_MAP_DATA	23044000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	996586
+SHUFFLE	COMPRESS_BYTE_COUNT	996590
+SHUFFLE	COPY_MAP_DATA	147945000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	797459
+SHUFFLE	COMPRESS_BYTE_COUNT	797463
+SHUFFLE	COPY_MAP_DATA	1974340000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	791359
+SHUFFLE	COMPRESS_BYTE_COUNT	791363
+SHUFFLE	COPY_MAP_DATA	1640673000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	756501
+SHUFFLE	COMPRESS_BYTE_COUNT	756505
+SHUFFLE	COPY_MAP_DATA	354703000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	783691
+SHUFFLE	COMPRESS_BYTE_COUNT	783695
+SHUFFLE	COPY_MAP_DATA	128430000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	786228
+SHUFFLE	COMPRESS_BYTE_COUNT	786232
+SHUFFLE	COPY_MAP_DATA	50757000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	755490
+SHUFFLE	COMPRESS_BYTE_COUNT	755494
+SHUFFLE	COPY_MAP_DATA	61066000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	758734
+SHUFFLE	COMPRESS_BYTE_COUNT	758738
+SHUFFLE	COPY_MAP_DATA	15233000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	854257
+SHUFFLE	COMPRESS_BYTE_COUNT	854261
+SHUFFLE	COPY_MAP_DATA	146022000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	853416
+SHUFFLE	COMPRESS_BYTE_COUNT	853420
+SHUFFLE	COPY_MAP_DATA	1567972000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	853151
+SHUFFLE	COMPRESS_BYTE_COUNT	853155
+SHUFFLE	COPY_MAP_DATA	111088000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	746783
+SHUFFLE	COMPRESS_BYTE_COUNT	746787
+SHUFFLE	COPY_MAP_DATA	113886000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	761105
+SHUFFLE	COMPRESS_BYTE_COUNT	761109
+SHUFFLE	COPY_MAP_DATA	475279000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	744942
+SHUFFLE	COMPRESS_BYTE_COUNT	744946
+SHUFFLE	COPY_MAP_DATA	44853000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	779087
+SHUFFLE	COMPRESS_BYTE_COUNT	779091
+SHUFFLE	COPY_MAP_DATA	16393000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	775464
+SHUFFLE	COMPRESS_BYTE_COUNT	775468
+SHUFFLE	COPY_MAP_DATA	54699000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	760491
+SHUFFLE	COMPRESS_BYTE_COUNT	760495
+SHUFFLE	COPY_MAP_DATA	104912000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	745650
+SHUFFLE	COMPRESS_BYTE_COUNT	745654
+SHUFFLE	COPY_MAP_DATA	14517000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	718623
+SHUFFLE	COMPRESS_BYTE_COUNT	718627
+SHUFFLE	COPY_MAP_DATA	839803000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	712268
+SHUFFLE	COMPRESS_BYTE_COUNT	712272
+SHUFFLE	COPY_MAP_DATA	36492000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	776359
+SHUFFLE	COMPRESS_BYTE_COUNT	776363
+SHUFFLE	COPY_MAP_DATA	19671000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	746610
+SHUFFLE	COMPRESS_BYTE_COUNT	746614
+SHUFFLE	COPY_MAP_DATA	46857000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	973128
+SHUFFLE	COMPRESS_BYTE_COUNT	973132
+SHUFFLE	COPY_MAP_DATA	4642813000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1108697
+SHUFFLE	COMPRESS_BYTE_COUNT	1108701
+SHUFFLE	COPY_MAP_DATA	329869000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1131527
+SHUFFLE	COMPRESS_BYTE_COUNT	1131531
+SHUFFLE	COPY_MAP_DATA	55850000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1111065
+SHUFFLE	COMPRESS_BYTE_COUNT	1111069
+SHUFFLE	COPY_MAP_DATA	175974000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	740536
+SHUFFLE	COMPRESS_BYTE_COUNT	740540
+SHUFFLE	COPY_MAP_DATA	216157000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1127577
+SHUFFLE	COMPRESS_BYTE_COUNT	1127581
+SHUFFLE	COPY_MAP_DATA	13777000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1155854
+SHUFFLE	COMPRESS_BYTE_COUNT	1155858
+SHUFFLE	COPY_MAP_DATA	170673000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1095287
+SHUFFLE	COMPRESS_BYTE_COUNT	1095291
+SHUFFLE	COPY_MAP_DATA	2661087000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	308036
+SHUFFLE	COMPRESS_BYTE_COUNT	308040
+SHUFFLE	COPY_MAP_DATA	3150847000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	743462
+SHUFFLE	COMPRESS_BYTE_COUNT	743466
+SHUFFLE	COPY_MAP_DATA	427214000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	760090
+SHUFFLE	COMPRESS_BYTE_COUNT	760094
+SHUFFLE	COPY_MAP_DATA	14907000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	241093
+SHUFFLE	COMPRESS_BYTE_COUNT	241097
+SHUFFLE	COPY_MAP_DATA	7720000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	665710
+SHUFFLE	COMPRESS_BYTE_COUNT	665714
+SHUFFLE	COPY_MAP_DATA	7386000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	576710
+SHUFFLE	COMPRESS_BYTE_COUNT	576714
+SHUFFLE	COPY_MAP_DATA	22397000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	957098
+SHUFFLE	COMPRESS_BYTE_COUNT	957102
+SHUFFLE	COPY_MAP_DATA	20993000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	734938
+SHUFFLE	COMPRESS_BYTE_COUNT	734942
+SHUFFLE	COPY_MAP_DATA	29763000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	357399
+SHUFFLE	COMPRESS_BYTE_COUNT	357403
+SHUFFLE	COPY_MAP_DATA	10648000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	410490
+SHUFFLE	COMPRESS_BYTE_COUNT	410494
+SHUFFLE	COPY_MAP_DATA	66876000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	467830
+SHUFFLE	COMPRESS_BYTE_COUNT	467834
+SHUFFLE	COPY_MAP_DATA	156692000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	670211
+SHUFFLE	COMPRESS_BYTE_COUNT	670215
+SHUFFLE	COPY_MAP_DATA	14788000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	710308
+SHUFFLE	COMPRESS_BYTE_COUNT	710312
+SHUFFLE	COPY_MAP_DATA	58261000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	712275
+SHUFFLE	COMPRESS_BYTE_COUNT	712279
+SHUFFLE	COPY_MAP_DATA	14190000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	723122
+SHUFFLE	COMPRESS_BYTE_COUNT	723126
+SHUFFLE	COPY_MAP_DATA	373304000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	138837
+SHUFFLE	COMPRESS_BYTE_COUNT	138841
+SHUFFLE	COPY_MAP_DATA	27915000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	749831
+SHUFFLE	COMPRESS_BYTE_COUNT	749835
+SHUFFLE	COPY_MAP_DATA	14679000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	186453
+SHUFFLE	COMPRESS_BYTE_COUNT	186457
+SHUFFLE	COPY_MAP_DATA	2453000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	639330
+SHUFFLE	COMPRESS_BYTE_COUNT	639334
+SHUFFLE	COPY_MAP_DATA	13964000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	733816
+SHUFFLE	COMPRESS_BYTE_COUNT	733820
+SHUFFLE	COPY_MAP_DATA	24044000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	515638
+SHUFFLE	COMPRESS_BYTE_COUNT	515642
+SHUFFLE	COPY_MAP_DATA	12023000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	217574
+SHUFFLE	COMPRESS_BYTE_COUNT	217578
+SHUFFLE	COPY_MAP_DATA	7337000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	316162
+SHUFFLE	COMPRESS_BYTE_COUNT	316166
+SHUFFLE	COPY_MAP_DATA	8549000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	208122
+SHUFFLE	COMPRESS_BYTE_COUNT	208126
+SHUFFLE	COPY_MAP_DATA	23185000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	224095
+SHUFFLE	COMPRESS_BYTE_COUNT	224099
+SHUFFLE	COPY_MAP_DATA	51467000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	660311
+SHUFFLE	COMPRESS_BYTE_COUNT	660315
+SHUFFLE	COPY_MAP_DATA	60136000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	169071
+SHUFFLE	COMPRESS_BYTE_COUNT	169075
+SHUFFLE	COPY_MAP_DATA	8112000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	506512
+SHUFFLE	COMPRESS_BYTE_COUNT	506516
+SHUFFLE	COPY_MAP_DATA	30723000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	488527
+SHUFFLE	COMPRESS_BYTE_COUNT	488531
+SHUFFLE	COPY_MAP_DATA	28261000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	650087
+SHUFFLE	COMPRESS_BYTE_COUNT	650091
+SHUFFLE	COPY_MAP_DATA	28195000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	534466
+SHUFFLE	COMPRESS_BYTE_COUNT	534470
+SHUFFLE	COPY_MAP_DATA	362077000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	723288
+SHUFFLE	COMPRESS_BYTE_COUNT	723292
+SHUFFLE	COPY_MAP_DATA	18455000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	695869
+SHUFFLE	COMPRESS_BYTE_COUNT	695873
+SHUFFLE	COPY_MAP_DATA	32850000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	444154
+SHUFFLE	COMPRESS_BYTE_COUNT	444158
+SHUFFLE	COPY_MAP_DATA	28238000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	748682
+SHUFFLE	COMPRESS_BYTE_COUNT	748686
+SHUFFLE	COPY_MAP_DATA	271251000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	642813
+SHUFFLE	COMPRESS_BYTE_COUNT	642817
+SHUFFLE	COPY_MAP_DATA	146915000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	409278
+SHUFFLE	COMPRESS_BYTE_COUNT	409282
+SHUFFLE	COPY_MAP_DATA	13664000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	797342
+SHUFFLE	COMPRESS_BYTE_COUNT	797346
+SHUFFLE	COPY_MAP_DATA	26160000
+SHUFFLE	UNCOMPRESS	0
+SORT	MERGE_MAP_DATA	9596418000
+SORT	READ_WRITE	9484587000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	100861536
+REDUCE	SETUP	300000
+REDUCE	SETUP_MEM	100861536
+REDUCE	CLEANUP	31000
+REDUCE	CLEANUP_MEM	86403080
+REDUCE	TOTAL_RUN	15536521000
+REDUCE	READ	749866000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	9413345000
+REDUCE	WRITE	2896505000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	11677015
+REDUCE	VALUE_BYTE_COUNT	1196800
+REDUCE	REDUCE_MEM	86405128
+REDUCE	WRITE	8298000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	520790645976
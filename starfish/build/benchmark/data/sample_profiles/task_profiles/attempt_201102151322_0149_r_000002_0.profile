@@ -0,0 +1,410 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	784913
+SHUFFLE	COMPRESS_BYTE_COUNT	784917
+SHUFFLE	COPY_MAP_DATA	1267638000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1022303
+SHUFFLE	COMPRESS_BYTE_COUNT	1022307
+SHUFFLE	COPY_MAP_DATA	63505000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1000061
+SHUFFLE	COMPRESS_BYTE_COUNT	1000065
+SHUFFLE	COPY_MAP_DATA	58475000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1078030
+SHUFFLE	COMPRESS_BYTE_COUNT	1078034
+SHUFFLE	COPY_MAP_DATA	1181945000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1016117
+SHUFFLE	COMPRESS_BYTE_COUNT	1016121
+SHUFFLE	COPY_MAP_DATA	4286133000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1058785
+SHUFFLE	COMPRESS_BYTE_COUNT	1058789
+SHUFFLE	COPY_MAP_DATA	33317000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1067033
+SHUFFLE	COMPRESS_BYTE_COUNT	1067037
+SHUFFLE	COPY_MAP_DATA	24111000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1100413
+SHUFFLE	COMPRESS_BYTE_COUNT	1100417
+SHUFFLE	COPY_MAP_DATA	694296000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1143092
+SHUFFLE	COMPRESS_BYTE_COUNT	1143096
+SHUFFLE	COPY_MAP_DATA	10804000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1091642
+SHUFFLE	COMPRESS_BYTE_COUNT	1091646
+SHUFFLE	COPY_MAP_DATA	16842000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1122381
+SHUFFLE	COMPRESS_BYTE_COUNT	1122385
+SHUFFLE	COPY_MAP_DATA	55482000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1105549
+SHUFFLE	COMPRESS_BYTE_COUNT	1105553
+SHUFFLE	COPY_MAP_DATA	293814000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1106654
+SHUFFLE	COMPRESS_BYTE_COUNT	1106658
+SHUFFLE	COPY_MAP_DATA	3764320000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1016727
+SHUFFLE	COMPRESS_BYTE_COUNT	1016731
+SHUFFLE	COPY_MAP_DATA	1587653000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1076653
+SHUFFLE	COMPRESS_BYTE_COUNT	1076657
+SHUFFLE	COPY_MAP_DATA	20320000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1128875
+SHUFFLE	COMPRESS_BYTE_COUNT	1128879
+SHUFFLE	COPY_MAP_DATA	371142000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	942554
+SHUFFLE	COMPRESS_BYTE_COUNT	942558
+SHUFFLE	COPY_MAP_DATA	87876000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1098580
+SHUFFLE	COMPRESS_BYTE_COUNT	1098584
+SHUFFLE	COPY_MAP_DATA	87769000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1108322
+SHUFFLE	COMPRESS_BYTE_COUNT	1108326
+SHUFFLE	COPY_MAP_DATA	13828000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1226536
+SHUFFLE	COMPRESS_BYTE_COUNT	1226540
+SHUFFLE	COPY_MAP_DATA	392865000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1079338
+SHUFFLE	COMPRESS_BYTE_COUNT	1079342
+SHUFFLE	COPY_MAP_DATA	534009000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1102968
+SHUFFLE	COMPRESS_BYTE_COUNT	1102972
+SHUFFLE	COPY_MAP_DATA	27897000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1106932
+SHUFFLE	COMPRESS_BYTE_COUNT	1106936
+SHUFFLE	COPY_MAP_DATA	30671000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1097255
+SHUFFLE	COMPRESS_BYTE_COUNT	1097259
+SHUFFLE	COPY_MAP_DATA	31038000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1114807
+SHUFFLE	COMPRESS_BYTE_COUNT	1114811
+SHUFFLE	COPY_MAP_DATA	285209000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1072372
+SHUFFLE	COMPRESS_BYTE_COUNT	1072376
+SHUFFLE	COPY_MAP_DATA	27414000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	995415
+SHUFFLE	COMPRESS_BYTE_COUNT	995419
+SHUFFLE	COPY_MAP_DATA	20781000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1080059
+SHUFFLE	COMPRESS_BYTE_COUNT	1080063
+SHUFFLE	COPY_MAP_DATA	20014000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1166836
+SHUFFLE	COMPRESS_BYTE_COUNT	1166840
+SHUFFLE	COPY_MAP_DATA	21597000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	987148
+SHUFFLE	COMPRESS_BYTE_COUNT	987152
+SHUFFLE	COPY_MAP_DATA	19145000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	787730
+SHUFFLE	COMPRESS_BYTE_COUNT	787734
+SHUFFLE	COPY_MAP_DATA	62396000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	788561
+SHUFFLE	COMPRESS_BYTE_COUNT	788565
+SHUFFLE	COPY_MAP_DATA	462228000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	750745
+SHUFFLE	COMPRESS_BYTE_COUNT	750749
+SHUFFLE	COPY_MAP_DATA	24621000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	779482
+SHUFFLE	COMPRESS_BYTE_COUNT	779486
+SHUFFLE	COPY_MAP_DATA	2317368000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	744746
+SHUFFLE	COMPRESS_BYTE_COUNT	744750
+SHUFFLE	COPY_MAP_DATA	18564000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	778286
+SHUFFLE	COMPRESS_BYTE_COUNT	778290
+SHUFFLE	COPY_MAP_DATA	14866000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	747014
+SHUFFLE	COMPRESS_BYTE_COUNT	747018
+SHUFFLE	COPY_MAP_DATA	145507000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	848675
+SHUFFLE	COMPRESS_BYTE_COUNT	848679
+SHUFFLE	COPY_MAP_DATA	563717000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	842881
+SHUFFLE	COMPRESS_BYTE_COUNT	842885
+SHUFFLE	COPY_MAP_DATA	135597000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	738358
+SHUFFLE	COMPRESS_BYTE_COUNT	738362
+SHUFFLE	COPY_MAP_DATA	146482000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	837280
+SHUFFLE	COMPRESS_BYTE_COUNT	837284
+SHUFFLE	COPY_MAP_DATA	79274000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	752719
+SHUFFLE	COMPRESS_BYTE_COUNT	752723
+SHUFFLE	COPY_MAP_DATA	723014000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	744970
+SHUFFLE	COMPRESS_BYTE_COUNT	744974
+SHUFFLE	COPY_MAP_DATA	162341000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	770786
+SHUFFLE	COMPRESS_BYTE_COUNT	770790
+SHUFFLE	COPY_MAP_DATA	290668000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	765104
+SHUFFLE	COMPRESS_BYTE_COUNT	765108
+SHUFFLE	COPY_MAP_DATA	17067000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	734943
+SHUFFLE	COMPRESS_BYTE_COUNT	734947
+SHUFFLE	COPY_MAP_DATA	17471000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	746605
+SHUFFLE	COMPRESS_BYTE_COUNT	746609
+SHUFFLE	COPY_MAP_DATA	15162000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	705374
+SHUFFLE	COMPRESS_BYTE_COUNT	705378
+SHUFFLE	COPY_MAP_DATA	224185000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	764162
+SHUFFLE	COMPRESS_BYTE_COUNT	764166
+SHUFFLE	COPY_MAP_DATA	53878000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	705686
+SHUFFLE	COMPRESS_BYTE_COUNT	705690
+SHUFFLE	COPY_MAP_DATA	24243000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	735023
+SHUFFLE	COMPRESS_BYTE_COUNT	735027
+SHUFFLE	COPY_MAP_DATA	15809000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	959395
+SHUFFLE	COMPRESS_BYTE_COUNT	959399
+SHUFFLE	COPY_MAP_DATA	74732000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1098549
+SHUFFLE	COMPRESS_BYTE_COUNT	1098553
+SHUFFLE	COPY_MAP_DATA	121458000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1099837
+SHUFFLE	COMPRESS_BYTE_COUNT	1099841
+SHUFFLE	COPY_MAP_DATA	54907000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1111513
+SHUFFLE	COMPRESS_BYTE_COUNT	1111517
+SHUFFLE	COPY_MAP_DATA	71074000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	728066
+SHUFFLE	COMPRESS_BYTE_COUNT	728070
+SHUFFLE	COPY_MAP_DATA	67528000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1108152
+SHUFFLE	COMPRESS_BYTE_COUNT	1108156
+SHUFFLE	COPY_MAP_DATA	18540000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1081777
+SHUFFLE	COMPRESS_BYTE_COUNT	1081781
+SHUFFLE	COPY_MAP_DATA	25552000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1135196
+SHUFFLE	COMPRESS_BYTE_COUNT	1135200
+SHUFFLE	COPY_MAP_DATA	45881000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	305118
+SHUFFLE	COMPRESS_BYTE_COUNT	305122
+SHUFFLE	COPY_MAP_DATA	379994000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	735625
+SHUFFLE	COMPRESS_BYTE_COUNT	735629
+SHUFFLE	COPY_MAP_DATA	558247000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	235648
+SHUFFLE	COMPRESS_BYTE_COUNT	235652
+SHUFFLE	COPY_MAP_DATA	192145000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	750886
+SHUFFLE	COMPRESS_BYTE_COUNT	750890
+SHUFFLE	COPY_MAP_DATA	647785000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	650613
+SHUFFLE	COMPRESS_BYTE_COUNT	650617
+SHUFFLE	COPY_MAP_DATA	202231000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	567323
+SHUFFLE	COMPRESS_BYTE_COUNT	567327
+SHUFFLE	COPY_MAP_DATA	220188000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	957834
+SHUFFLE	COMPRESS_BYTE_COUNT	957838
+SHUFFLE	COPY_MAP_DATA	180943000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	352963
+SHUFFLE	COMPRESS_BYTE_COUNT	352967
+SHUFFLE	COPY_MAP_DATA	4634382000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	727817
+SHUFFLE	COMPRESS_BYTE_COUNT	727821
+SHUFFLE	COPY_MAP_DATA	8082000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	659660
+SHUFFLE	COMPRESS_BYTE_COUNT	659664
+SHUFFLE	COPY_MAP_DATA	14122000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	463825
+SHUFFLE	COMPRESS_BYTE_COUNT	463829
+SHUFFLE	COPY_MAP_DATA	11884000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	404382
+SHUFFLE	COMPRESS_BYTE_COUNT	404386
+SHUFFLE	COPY_MAP_DATA	7275000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	699168
+SHUFFLE	COMPRESS_BYTE_COUNT	699172
+SHUFFLE	COPY_MAP_DATA	32193000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	705762
+SHUFFLE	COMPRESS_BYTE_COUNT	705766
+SHUFFLE	COPY_MAP_DATA	18449000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	709094
+SHUFFLE	COMPRESS_BYTE_COUNT	709098
+SHUFFLE	COPY_MAP_DATA	467704000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	749471
+SHUFFLE	COMPRESS_BYTE_COUNT	749475
+SHUFFLE	COPY_MAP_DATA	2415927000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	184477
+SHUFFLE	COMPRESS_BYTE_COUNT	184481
+SHUFFLE	COPY_MAP_DATA	54467000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	137074
+SHUFFLE	COMPRESS_BYTE_COUNT	137078
+SHUFFLE	COPY_MAP_DATA	225293000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	204836
+SHUFFLE	COMPRESS_BYTE_COUNT	204840
+SHUFFLE	COPY_MAP_DATA	7278000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	511857
+SHUFFLE	COMPRESS_BYTE_COUNT	511861
+SHUFFLE	COPY_MAP_DATA	358614000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	628561
+SHUFFLE	COMPRESS_BYTE_COUNT	628565
+SHUFFLE	COPY_MAP_DATA	186442000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	726880
+SHUFFLE	COMPRESS_BYTE_COUNT	726884
+SHUFFLE	COPY_MAP_DATA	36658000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	215429
+SHUFFLE	COMPRESS_BYTE_COUNT	215433
+SHUFFLE	COPY_MAP_DATA	196837000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	314387
+SHUFFLE	COMPRESS_BYTE_COUNT	314391
+SHUFFLE	COPY_MAP_DATA	6046000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	216494
+SHUFFLE	COMPRESS_BYTE_COUNT	216498
+SHUFFLE	COPY_MAP_DATA	731315000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	653357
+SHUFFLE	COMPRESS_BYTE_COUNT	653361
+SHUFFLE	COPY_MAP_DATA	13764000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	166919
+SHUFFLE	COMPRESS_BYTE_COUNT	166923
+SHUFFLE	COPY_MAP_DATA	621660000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	497091
+SHUFFLE	COMPRESS_BYTE_COUNT	497095
+SHUFFLE	COPY_MAP_DATA	352254000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	480290
+SHUFFLE	COMPRESS_BYTE_COUNT	480294
+SHUFFLE	COPY_MAP_DATA	18222000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	649183
+SHUFFLE	COMPRESS_BYTE_COUNT	649187
+SHUFFLE	COPY_MAP_DATA	13914000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	523146
+SHUFFLE	COMPRESS_BYTE_COUNT	523150
+SHUFFLE	COPY_MAP_DATA	519909000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	711798
+SHUFFLE	COMPRESS_BYTE_COUNT	711802
+SHUFFLE	COPY_MAP_DATA	14897000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	697775
+SHUFFLE	COMPRESS_BYTE_COUNT	697779
+SHUFFLE	COPY_MAP_DATA	13300000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	635184
+SHUFFLE	COMPRESS_BYTE_COUNT	635188
+SHUFFLE	COPY_MAP_DATA	17283000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	441348
+SHUFFLE	COMPRESS_BYTE_COUNT	441352
+SHUFFLE	COPY_MAP_DATA	7682000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	742659
+SHUFFLE	COMPRESS_BYTE_COUNT	742663
+SHUFFLE	COPY_MAP_DATA	14772000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	406953
+SHUFFLE	COMPRESS_BYTE_COUNT	406957
+SHUFFLE	COPY_MAP_DATA	12292000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	788510
+SHUFFLE	COMPRESS_BYTE_COUNT	788514
+SHUFFLE	COPY_MAP_DATA	17768000
+SHUFFLE	UNCOMPRESS	0
+SORT	MERGE_MAP_DATA	8948752000
+SORT	READ_WRITE	8864627000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	109830520
+REDUCE	SETUP	266000
+REDUCE	SETUP_MEM	109830520
+REDUCE	CLEANUP	31000
+REDUCE	CLEANUP_MEM	72935176
+REDUCE	TOTAL_RUN	14364719000
+REDUCE	READ	781893000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	8435073000
+REDUCE	WRITE	2371891000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	11640018
+REDUCE	VALUE_BYTE_COUNT	1192427
+REDUCE	REDUCE_MEM	72935176
+REDUCE	WRITE	88374000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	513379577000
@@ -0,0 +1,410 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1033221
+SHUFFLE	COMPRESS_BYTE_COUNT	1033225
+SHUFFLE	COPY_MAP_DATA	62513000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1019658
+SHUFFLE	COMPRESS_BYTE_COUNT	1019662
+SHUFFLE	COPY_MAP_DATA	21363000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1004993
+SHUFFLE	COMPRESS_BYTE_COUNT	1004997
+SHUFFLE	COPY_MAP_DATA	282132000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1090012
+SHUFFLE	COMPRESS_BYTE_COUNT	1090016
+SHUFFLE	COPY_MAP_DATA	43716000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	791662
+SHUFFLE	COMPRESS_BYTE_COUNT	791666
+SHUFFLE	COPY_MAP_DATA	25875000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1067246
+SHUFFLE	COMPRESS_BYTE_COUNT	1067250
+SHUFFLE	COPY_MAP_DATA	33303000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1109056
+SHUFFLE	COMPRESS_BYTE_COUNT	1109060
+SHUFFLE	COPY_MAP_DATA	29894000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1143816
+SHUFFLE	COMPRESS_BYTE_COUNT	1143820
+SHUFFLE	COPY_MAP_DATA	4713383000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1060494
+SHUFFLE	COMPRESS_BYTE_COUNT	1060498
+SHUFFLE	COPY_MAP_DATA	27177000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1118046
+SHUFFLE	COMPRESS_BYTE_COUNT	1118050
+SHUFFLE	COPY_MAP_DATA	2044493000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1100729
+SHUFFLE	COMPRESS_BYTE_COUNT	1100733
+SHUFFLE	COPY_MAP_DATA	1015095000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1076631
+SHUFFLE	COMPRESS_BYTE_COUNT	1076635
+SHUFFLE	COPY_MAP_DATA	44800000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1146407
+SHUFFLE	COMPRESS_BYTE_COUNT	1146411
+SHUFFLE	COPY_MAP_DATA	90197000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1112806
+SHUFFLE	COMPRESS_BYTE_COUNT	1112810
+SHUFFLE	COPY_MAP_DATA	211910000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1117453
+SHUFFLE	COMPRESS_BYTE_COUNT	1117457
+SHUFFLE	COPY_MAP_DATA	59564000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1020370
+SHUFFLE	COMPRESS_BYTE_COUNT	1020374
+SHUFFLE	COPY_MAP_DATA	14461000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1130670
+SHUFFLE	COMPRESS_BYTE_COUNT	1130674
+SHUFFLE	COPY_MAP_DATA	19651000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1099906
+SHUFFLE	COMPRESS_BYTE_COUNT	1099910
+SHUFFLE	COPY_MAP_DATA	36949000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	945803
+SHUFFLE	COMPRESS_BYTE_COUNT	945807
+SHUFFLE	COPY_MAP_DATA	72490000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1230379
+SHUFFLE	COMPRESS_BYTE_COUNT	1230383
+SHUFFLE	COPY_MAP_DATA	76848000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1086180
+SHUFFLE	COMPRESS_BYTE_COUNT	1086184
+SHUFFLE	COPY_MAP_DATA	11861000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1114134
+SHUFFLE	COMPRESS_BYTE_COUNT	1114138
+SHUFFLE	COPY_MAP_DATA	208761000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1118390
+SHUFFLE	COMPRESS_BYTE_COUNT	1118394
+SHUFFLE	COPY_MAP_DATA	145003000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1123892
+SHUFFLE	COMPRESS_BYTE_COUNT	1123896
+SHUFFLE	COPY_MAP_DATA	187805000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1011260
+SHUFFLE	COMPRESS_BYTE_COUNT	1011264
+SHUFFLE	COPY_MAP_DATA	28096000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1108887
+SHUFFLE	COMPRESS_BYTE_COUNT	1108891
+SHUFFLE	COPY_MAP_DATA	1205173000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1083203
+SHUFFLE	COMPRESS_BYTE_COUNT	1083207
+SHUFFLE	COPY_MAP_DATA	94046000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1176451
+SHUFFLE	COMPRESS_BYTE_COUNT	1176455
+SHUFFLE	COPY_MAP_DATA	193051000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1086866
+SHUFFLE	COMPRESS_BYTE_COUNT	1086870
+SHUFFLE	COPY_MAP_DATA	306591000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	986001
+SHUFFLE	COMPRESS_BYTE_COUNT	986005
+SHUFFLE	COPY_MAP_DATA	308941000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	795547
+SHUFFLE	COMPRESS_BYTE_COUNT	795551
+SHUFFLE	COPY_MAP_DATA	15418000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	790378
+SHUFFLE	COMPRESS_BYTE_COUNT	790382
+SHUFFLE	COPY_MAP_DATA	199787000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	756296
+SHUFFLE	COMPRESS_BYTE_COUNT	756300
+SHUFFLE	COPY_MAP_DATA	183305000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	782581
+SHUFFLE	COMPRESS_BYTE_COUNT	782585
+SHUFFLE	COPY_MAP_DATA	158303000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	751654
+SHUFFLE	COMPRESS_BYTE_COUNT	751658
+SHUFFLE	COPY_MAP_DATA	46321000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	773594
+SHUFFLE	COMPRESS_BYTE_COUNT	773598
+SHUFFLE	COPY_MAP_DATA	107059000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	757871
+SHUFFLE	COMPRESS_BYTE_COUNT	757875
+SHUFFLE	COPY_MAP_DATA	63958000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	846960
+SHUFFLE	COMPRESS_BYTE_COUNT	846964
+SHUFFLE	COPY_MAP_DATA	561397000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	845269
+SHUFFLE	COMPRESS_BYTE_COUNT	845273
+SHUFFLE	COPY_MAP_DATA	47606000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	845598
+SHUFFLE	COMPRESS_BYTE_COUNT	845602
+SHUFFLE	COPY_MAP_DATA	866679000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	745771
+SHUFFLE	COMPRESS_BYTE_COUNT	745775
+SHUFFLE	COPY_MAP_DATA	14416000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	751187
+SHUFFLE	COMPRESS_BYTE_COUNT	751191
+SHUFFLE	COPY_MAP_DATA	25686000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	769775
+SHUFFLE	COMPRESS_BYTE_COUNT	769779
+SHUFFLE	COPY_MAP_DATA	62320000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	743564
+SHUFFLE	COMPRESS_BYTE_COUNT	743568
+SHUFFLE	COPY_MAP_DATA	8971000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	753031
+SHUFFLE	COMPRESS_BYTE_COUNT	753035
+SHUFFLE	COPY_MAP_DATA	906774000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	769036
+SHUFFLE	COMPRESS_BYTE_COUNT	769040
+SHUFFLE	COPY_MAP_DATA	14443000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	712341
+SHUFFLE	COMPRESS_BYTE_COUNT	712345
+SHUFFLE	COPY_MAP_DATA	582605000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	738350
+SHUFFLE	COMPRESS_BYTE_COUNT	738354
+SHUFFLE	COPY_MAP_DATA	112828000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	711855
+SHUFFLE	COMPRESS_BYTE_COUNT	711859
+SHUFFLE	COPY_MAP_DATA	19109000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	764921
+SHUFFLE	COMPRESS_BYTE_COUNT	764925
+SHUFFLE	COPY_MAP_DATA	15507000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	742737
+SHUFFLE	COMPRESS_BYTE_COUNT	742741
+SHUFFLE	COPY_MAP_DATA	180492000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	960667
+SHUFFLE	COMPRESS_BYTE_COUNT	960671
+SHUFFLE	COPY_MAP_DATA	19428000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1117763
+SHUFFLE	COMPRESS_BYTE_COUNT	1117767
+SHUFFLE	COPY_MAP_DATA	21194000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1119179
+SHUFFLE	COMPRESS_BYTE_COUNT	1119183
+SHUFFLE	COPY_MAP_DATA	19169000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1109738
+SHUFFLE	COMPRESS_BYTE_COUNT	1109742
+SHUFFLE	COPY_MAP_DATA	85840000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	739838
+SHUFFLE	COMPRESS_BYTE_COUNT	739842
+SHUFFLE	COPY_MAP_DATA	204540000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1122421
+SHUFFLE	COMPRESS_BYTE_COUNT	1122425
+SHUFFLE	COPY_MAP_DATA	23590000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1142549
+SHUFFLE	COMPRESS_BYTE_COUNT	1142553
+SHUFFLE	COPY_MAP_DATA	61268000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1088780
+SHUFFLE	COMPRESS_BYTE_COUNT	1088784
+SHUFFLE	COPY_MAP_DATA	17835000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	308899
+SHUFFLE	COMPRESS_BYTE_COUNT	308903
+SHUFFLE	COPY_MAP_DATA	12388000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	754207
+SHUFFLE	COMPRESS_BYTE_COUNT	754211
+SHUFFLE	COPY_MAP_DATA	50391000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	240230
+SHUFFLE	COMPRESS_BYTE_COUNT	240234
+SHUFFLE	COPY_MAP_DATA	22412000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	738264
+SHUFFLE	COMPRESS_BYTE_COUNT	738268
+SHUFFLE	COPY_MAP_DATA	14718000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	665657
+SHUFFLE	COMPRESS_BYTE_COUNT	665661
+SHUFFLE	COPY_MAP_DATA	13447000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	568831
+SHUFFLE	COMPRESS_BYTE_COUNT	568835
+SHUFFLE	COPY_MAP_DATA	799111000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	959811
+SHUFFLE	COMPRESS_BYTE_COUNT	959815
+SHUFFLE	COPY_MAP_DATA	132757000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	356978
+SHUFFLE	COMPRESS_BYTE_COUNT	356982
+SHUFFLE	COPY_MAP_DATA	216403000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	662861
+SHUFFLE	COMPRESS_BYTE_COUNT	662865
+SHUFFLE	COPY_MAP_DATA	96562000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	729145
+SHUFFLE	COMPRESS_BYTE_COUNT	729149
+SHUFFLE	COPY_MAP_DATA	23092000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	403749
+SHUFFLE	COMPRESS_BYTE_COUNT	403753
+SHUFFLE	COPY_MAP_DATA	30535000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	468828
+SHUFFLE	COMPRESS_BYTE_COUNT	468832
+SHUFFLE	COPY_MAP_DATA	61748000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	698458
+SHUFFLE	COMPRESS_BYTE_COUNT	698462
+SHUFFLE	COPY_MAP_DATA	15746000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	706828
+SHUFFLE	COMPRESS_BYTE_COUNT	706832
+SHUFFLE	COPY_MAP_DATA	14325000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	717525
+SHUFFLE	COMPRESS_BYTE_COUNT	717529
+SHUFFLE	COPY_MAP_DATA	829686000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	751020
+SHUFFLE	COMPRESS_BYTE_COUNT	751024
+SHUFFLE	COPY_MAP_DATA	16436000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	138894
+SHUFFLE	COMPRESS_BYTE_COUNT	138898
+SHUFFLE	COPY_MAP_DATA	8039000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	213773
+SHUFFLE	COMPRESS_BYTE_COUNT	213777
+SHUFFLE	COPY_MAP_DATA	10062000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	183434
+SHUFFLE	COMPRESS_BYTE_COUNT	183438
+SHUFFLE	COPY_MAP_DATA	47894000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	634367
+SHUFFLE	COMPRESS_BYTE_COUNT	634371
+SHUFFLE	COPY_MAP_DATA	70282000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	723489
+SHUFFLE	COMPRESS_BYTE_COUNT	723493
+SHUFFLE	COPY_MAP_DATA	19022000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	516790
+SHUFFLE	COMPRESS_BYTE_COUNT	516794
+SHUFFLE	COPY_MAP_DATA	43239000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	208659
+SHUFFLE	COMPRESS_BYTE_COUNT	208663
+SHUFFLE	COPY_MAP_DATA	27595000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	315755
+SHUFFLE	COMPRESS_BYTE_COUNT	315759
+SHUFFLE	COPY_MAP_DATA	10898000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	652838
+SHUFFLE	COMPRESS_BYTE_COUNT	652842
+SHUFFLE	COPY_MAP_DATA	110982000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	221461
+SHUFFLE	COMPRESS_BYTE_COUNT	221465
+SHUFFLE	COPY_MAP_DATA	7785000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	501486
+SHUFFLE	COMPRESS_BYTE_COUNT	501490
+SHUFFLE	COPY_MAP_DATA	11548000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	171204
+SHUFFLE	COMPRESS_BYTE_COUNT	171208
+SHUFFLE	COPY_MAP_DATA	6559000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	485331
+SHUFFLE	COMPRESS_BYTE_COUNT	485335
+SHUFFLE	COPY_MAP_DATA	13330000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	646793
+SHUFFLE	COMPRESS_BYTE_COUNT	646797
+SHUFFLE	COPY_MAP_DATA	39253000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	528328
+SHUFFLE	COMPRESS_BYTE_COUNT	528332
+SHUFFLE	COPY_MAP_DATA	162202000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	719881
+SHUFFLE	COMPRESS_BYTE_COUNT	719885
+SHUFFLE	COPY_MAP_DATA	65565000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	640356
+SHUFFLE	COMPRESS_BYTE_COUNT	640360
+SHUFFLE	COPY_MAP_DATA	59558000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	740970
+SHUFFLE	COMPRESS_BYTE_COUNT	740974
+SHUFFLE	COPY_MAP_DATA	20398000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	694604
+SHUFFLE	COMPRESS_BYTE_COUNT	694608
+SHUFFLE	COPY_MAP_DATA	19948000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	444710
+SHUFFLE	COMPRESS_BYTE_COUNT	444714
+SHUFFLE	COPY_MAP_DATA	15652000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	405558
+SHUFFLE	COMPRESS_BYTE_COUNT	405562
+SHUFFLE	COPY_MAP_DATA	15433000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	787257
+SHUFFLE	COMPRESS_BYTE_COUNT	787261
+SHUFFLE	COPY_MAP_DATA	15711000
+SHUFFLE	UNCOMPRESS	0
+SORT	MERGE_MAP_DATA	9728210000
+SORT	READ_WRITE	9651763000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	99589808
+REDUCE	SETUP	344000
+REDUCE	SETUP_MEM	99589808
+REDUCE	CLEANUP	49000
+REDUCE	CLEANUP_MEM	95100424
+REDUCE	TOTAL_RUN	19089523000
+REDUCE	READ	620699000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	10534285000
+REDUCE	WRITE	3041542000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	11639447
+REDUCE	VALUE_BYTE_COUNT	1192620
+REDUCE	REDUCE_MEM	95100424
+REDUCE	WRITE	67228000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	517343485771
@@ -0,0 +1,410 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1098133
+SHUFFLE	COMPRESS_BYTE_COUNT	1098137
+SHUFFLE	COPY_MAP_DATA	669535000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	794820
+SHUFFLE	COMPRESS_BYTE_COUNT	794824
+SHUFFLE	COPY_MAP_DATA	14396000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1038244
+SHUFFLE	COMPRESS_BYTE_COUNT	1038248
+SHUFFLE	COPY_MAP_DATA	18682000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	998027
+SHUFFLE	COMPRESS_BYTE_COUNT	998031
+SHUFFLE	COPY_MAP_DATA	35466000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1018127
+SHUFFLE	COMPRESS_BYTE_COUNT	1018131
+SHUFFLE	COPY_MAP_DATA	37607000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1109212
+SHUFFLE	COMPRESS_BYTE_COUNT	1109216
+SHUFFLE	COPY_MAP_DATA	34737000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1065582
+SHUFFLE	COMPRESS_BYTE_COUNT	1065586
+SHUFFLE	COPY_MAP_DATA	296561000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1064589
+SHUFFLE	COMPRESS_BYTE_COUNT	1064593
+SHUFFLE	COPY_MAP_DATA	75884000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1145252
+SHUFFLE	COMPRESS_BYTE_COUNT	1145256
+SHUFFLE	COPY_MAP_DATA	4219228000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1092435
+SHUFFLE	COMPRESS_BYTE_COUNT	1092439
+SHUFFLE	COPY_MAP_DATA	127095000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1117421
+SHUFFLE	COMPRESS_BYTE_COUNT	1117425
+SHUFFLE	COPY_MAP_DATA	1895098000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1079517
+SHUFFLE	COMPRESS_BYTE_COUNT	1079521
+SHUFFLE	COPY_MAP_DATA	63203000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1135789
+SHUFFLE	COMPRESS_BYTE_COUNT	1135793
+SHUFFLE	COPY_MAP_DATA	386724000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1111056
+SHUFFLE	COMPRESS_BYTE_COUNT	1111060
+SHUFFLE	COPY_MAP_DATA	161512000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1129977
+SHUFFLE	COMPRESS_BYTE_COUNT	1129981
+SHUFFLE	COPY_MAP_DATA	127046000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1112936
+SHUFFLE	COMPRESS_BYTE_COUNT	1112940
+SHUFFLE	COPY_MAP_DATA	76184000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1016511
+SHUFFLE	COMPRESS_BYTE_COUNT	1016515
+SHUFFLE	COPY_MAP_DATA	25702000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	944576
+SHUFFLE	COMPRESS_BYTE_COUNT	944580
+SHUFFLE	COPY_MAP_DATA	174573000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1104056
+SHUFFLE	COMPRESS_BYTE_COUNT	1104060
+SHUFFLE	COPY_MAP_DATA	139557000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1236144
+SHUFFLE	COMPRESS_BYTE_COUNT	1236148
+SHUFFLE	COPY_MAP_DATA	254180000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1117635
+SHUFFLE	COMPRESS_BYTE_COUNT	1117639
+SHUFFLE	COPY_MAP_DATA	19533000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1082385
+SHUFFLE	COMPRESS_BYTE_COUNT	1082389
+SHUFFLE	COPY_MAP_DATA	19622000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1109752
+SHUFFLE	COMPRESS_BYTE_COUNT	1109756
+SHUFFLE	COPY_MAP_DATA	24307000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1123615
+SHUFFLE	COMPRESS_BYTE_COUNT	1123619
+SHUFFLE	COPY_MAP_DATA	29806000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1106138
+SHUFFLE	COMPRESS_BYTE_COUNT	1106142
+SHUFFLE	COPY_MAP_DATA	233021000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1012782
+SHUFFLE	COMPRESS_BYTE_COUNT	1012786
+SHUFFLE	COPY_MAP_DATA	26000000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1082748
+SHUFFLE	COMPRESS_BYTE_COUNT	1082752
+SHUFFLE	COPY_MAP_DATA	20915000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1088945
+SHUFFLE	COMPRESS_BYTE_COUNT	1088949
+SHUFFLE	COPY_MAP_DATA	57130000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1164216
+SHUFFLE	COMPRESS_BYTE_COUNT	1164220
+SHUFFLE	COPY_MAP_DATA	20865000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	991723
+SHUFFLE	COMPRESS_BYTE_COUNT	991727
+SHUFFLE	COPY_MAP_DATA	81632000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	793301
+SHUFFLE	COMPRESS_BYTE_COUNT	793305
+SHUFFLE	COPY_MAP_DATA	144007000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	787106
+SHUFFLE	COMPRESS_BYTE_COUNT	787110
+SHUFFLE	COPY_MAP_DATA	20040000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	749716
+SHUFFLE	COMPRESS_BYTE_COUNT	749720
+SHUFFLE	COPY_MAP_DATA	549719000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	777914
+SHUFFLE	COMPRESS_BYTE_COUNT	777918
+SHUFFLE	COPY_MAP_DATA	20309000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	747694
+SHUFFLE	COMPRESS_BYTE_COUNT	747698
+SHUFFLE	COPY_MAP_DATA	128935000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	778678
+SHUFFLE	COMPRESS_BYTE_COUNT	778682
+SHUFFLE	COPY_MAP_DATA	30970000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	749348
+SHUFFLE	COMPRESS_BYTE_COUNT	749352
+SHUFFLE	COPY_MAP_DATA	16217000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	845195
+SHUFFLE	COMPRESS_BYTE_COUNT	845199
+SHUFFLE	COPY_MAP_DATA	679676000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	848286
+SHUFFLE	COMPRESS_BYTE_COUNT	848290
+SHUFFLE	COPY_MAP_DATA	1380701000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	842310
+SHUFFLE	COMPRESS_BYTE_COUNT	842314
+SHUFFLE	COPY_MAP_DATA	25913000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	744096
+SHUFFLE	COMPRESS_BYTE_COUNT	744100
+SHUFFLE	COPY_MAP_DATA	80449000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	755315
+SHUFFLE	COMPRESS_BYTE_COUNT	755319
+SHUFFLE	COPY_MAP_DATA	1559672000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	743978
+SHUFFLE	COMPRESS_BYTE_COUNT	743982
+SHUFFLE	COPY_MAP_DATA	16732000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	767441
+SHUFFLE	COMPRESS_BYTE_COUNT	767445
+SHUFFLE	COPY_MAP_DATA	1652697000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	775190
+SHUFFLE	COMPRESS_BYTE_COUNT	775194
+SHUFFLE	COPY_MAP_DATA	104835000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	753101
+SHUFFLE	COMPRESS_BYTE_COUNT	753105
+SHUFFLE	COPY_MAP_DATA	57936000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	742425
+SHUFFLE	COMPRESS_BYTE_COUNT	742429
+SHUFFLE	COPY_MAP_DATA	43223000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	716196
+SHUFFLE	COMPRESS_BYTE_COUNT	716200
+SHUFFLE	COPY_MAP_DATA	36375000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	765796
+SHUFFLE	COMPRESS_BYTE_COUNT	765800
+SHUFFLE	COPY_MAP_DATA	62290000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	704521
+SHUFFLE	COMPRESS_BYTE_COUNT	704525
+SHUFFLE	COPY_MAP_DATA	360703000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	745896
+SHUFFLE	COMPRESS_BYTE_COUNT	745900
+SHUFFLE	COPY_MAP_DATA	13952000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	968744
+SHUFFLE	COMPRESS_BYTE_COUNT	968748
+SHUFFLE	COPY_MAP_DATA	70820000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1114760
+SHUFFLE	COMPRESS_BYTE_COUNT	1114764
+SHUFFLE	COPY_MAP_DATA	257560000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1104486
+SHUFFLE	COMPRESS_BYTE_COUNT	1104490
+SHUFFLE	COPY_MAP_DATA	90766000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1112974
+SHUFFLE	COMPRESS_BYTE_COUNT	1112978
+SHUFFLE	COPY_MAP_DATA	10687000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	735369
+SHUFFLE	COMPRESS_BYTE_COUNT	735373
+SHUFFLE	COPY_MAP_DATA	106525000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1123707
+SHUFFLE	COMPRESS_BYTE_COUNT	1123711
+SHUFFLE	COPY_MAP_DATA	13425000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1091300
+SHUFFLE	COMPRESS_BYTE_COUNT	1091304
+SHUFFLE	COPY_MAP_DATA	17526000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1146642
+SHUFFLE	COMPRESS_BYTE_COUNT	1146646
+SHUFFLE	COPY_MAP_DATA	599395000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	307105
+SHUFFLE	COMPRESS_BYTE_COUNT	307109
+SHUFFLE	COPY_MAP_DATA	10519000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	755298
+SHUFFLE	COMPRESS_BYTE_COUNT	755302
+SHUFFLE	COPY_MAP_DATA	28642000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	240121
+SHUFFLE	COMPRESS_BYTE_COUNT	240125
+SHUFFLE	COPY_MAP_DATA	4123000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	657549
+SHUFFLE	COMPRESS_BYTE_COUNT	657553
+SHUFFLE	COPY_MAP_DATA	179515000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	736933
+SHUFFLE	COMPRESS_BYTE_COUNT	736937
+SHUFFLE	COPY_MAP_DATA	1023042000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	954843
+SHUFFLE	COMPRESS_BYTE_COUNT	954847
+SHUFFLE	COPY_MAP_DATA	24839000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	575869
+SHUFFLE	COMPRESS_BYTE_COUNT	575873
+SHUFFLE	COPY_MAP_DATA	14371000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	469809
+SHUFFLE	COMPRESS_BYTE_COUNT	469813
+SHUFFLE	COPY_MAP_DATA	169980000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	355001
+SHUFFLE	COMPRESS_BYTE_COUNT	355005
+SHUFFLE	COPY_MAP_DATA	9784000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	733017
+SHUFFLE	COMPRESS_BYTE_COUNT	733021
+SHUFFLE	COPY_MAP_DATA	15042000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	695253
+SHUFFLE	COMPRESS_BYTE_COUNT	695257
+SHUFFLE	COPY_MAP_DATA	222345000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	659425
+SHUFFLE	COMPRESS_BYTE_COUNT	659429
+SHUFFLE	COPY_MAP_DATA	14670000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	407816
+SHUFFLE	COMPRESS_BYTE_COUNT	407820
+SHUFFLE	COPY_MAP_DATA	24381000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	711829
+SHUFFLE	COMPRESS_BYTE_COUNT	711833
+SHUFFLE	COPY_MAP_DATA	54421000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	710263
+SHUFFLE	COMPRESS_BYTE_COUNT	710267
+SHUFFLE	COPY_MAP_DATA	211563000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	747620
+SHUFFLE	COMPRESS_BYTE_COUNT	747624
+SHUFFLE	COPY_MAP_DATA	24292000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	138628
+SHUFFLE	COMPRESS_BYTE_COUNT	138632
+SHUFFLE	COPY_MAP_DATA	6124000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	184799
+SHUFFLE	COMPRESS_BYTE_COUNT	184803
+SHUFFLE	COPY_MAP_DATA	7375000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	725815
+SHUFFLE	COMPRESS_BYTE_COUNT	725819
+SHUFFLE	COPY_MAP_DATA	98947000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	215895
+SHUFFLE	COMPRESS_BYTE_COUNT	215899
+SHUFFLE	COPY_MAP_DATA	4069000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	508594
+SHUFFLE	COMPRESS_BYTE_COUNT	508598
+SHUFFLE	COPY_MAP_DATA	37728000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	637352
+SHUFFLE	COMPRESS_BYTE_COUNT	637356
+SHUFFLE	COPY_MAP_DATA	32662000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	313795
+SHUFFLE	COMPRESS_BYTE_COUNT	313799
+SHUFFLE	COPY_MAP_DATA	4342000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	220197
+SHUFFLE	COMPRESS_BYTE_COUNT	220201
+SHUFFLE	COPY_MAP_DATA	38759000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	656889
+SHUFFLE	COMPRESS_BYTE_COUNT	656893
+SHUFFLE	COPY_MAP_DATA	69418000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	206177
+SHUFFLE	COMPRESS_BYTE_COUNT	206181
+SHUFFLE	COPY_MAP_DATA	7025000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	168365
+SHUFFLE	COMPRESS_BYTE_COUNT	168369
+SHUFFLE	COPY_MAP_DATA	7498000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	504425
+SHUFFLE	COMPRESS_BYTE_COUNT	504429
+SHUFFLE	COPY_MAP_DATA	10565000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	482238
+SHUFFLE	COMPRESS_BYTE_COUNT	482242
+SHUFFLE	COPY_MAP_DATA	25924000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	651810
+SHUFFLE	COMPRESS_BYTE_COUNT	651814
+SHUFFLE	COPY_MAP_DATA	34777000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	523647
+SHUFFLE	COMPRESS_BYTE_COUNT	523651
+SHUFFLE	COPY_MAP_DATA	1774667000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	715288
+SHUFFLE	COMPRESS_BYTE_COUNT	715292
+SHUFFLE	COPY_MAP_DATA	16140000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	696906
+SHUFFLE	COMPRESS_BYTE_COUNT	696910
+SHUFFLE	COPY_MAP_DATA	11435000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	444041
+SHUFFLE	COMPRESS_BYTE_COUNT	444045
+SHUFFLE	COPY_MAP_DATA	45068000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	741816
+SHUFFLE	COMPRESS_BYTE_COUNT	741820
+SHUFFLE	COPY_MAP_DATA	26427000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	639596
+SHUFFLE	COMPRESS_BYTE_COUNT	639600
+SHUFFLE	COPY_MAP_DATA	48085000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	407886
+SHUFFLE	COMPRESS_BYTE_COUNT	407890
+SHUFFLE	COPY_MAP_DATA	20550000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	786057
+SHUFFLE	COMPRESS_BYTE_COUNT	786061
+SHUFFLE	COPY_MAP_DATA	26268000
+SHUFFLE	UNCOMPRESS	0
+SORT	MERGE_MAP_DATA	10143701000
+SORT	READ_WRITE	10051005000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	101643384
+REDUCE	SETUP	820000
+REDUCE	SETUP_MEM	101643384
+REDUCE	CLEANUP	41000
+REDUCE	CLEANUP_MEM	103252336
+REDUCE	TOTAL_RUN	16563469000
+REDUCE	READ	1050873000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	9711914000
+REDUCE	WRITE	2681701000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	11667549
+REDUCE	VALUE_BYTE_COUNT	1194540
+REDUCE	REDUCE_MEM	103252336
+REDUCE	WRITE	10865000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	522109760016
@@ -0,0 +1,410 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	796973
+SHUFFLE	COMPRESS_BYTE_COUNT	796977
+SHUFFLE	COPY_MAP_DATA	180654000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1014318
+SHUFFLE	COMPRESS_BYTE_COUNT	1014322
+SHUFFLE	COPY_MAP_DATA	258987000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1036950
+SHUFFLE	COMPRESS_BYTE_COUNT	1036954
+SHUFFLE	COPY_MAP_DATA	213527000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1100893
+SHUFFLE	COMPRESS_BYTE_COUNT	1100897
+SHUFFLE	COPY_MAP_DATA	25015000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1019117
+SHUFFLE	COMPRESS_BYTE_COUNT	1019121
+SHUFFLE	COPY_MAP_DATA	184501000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1073248
+SHUFFLE	COMPRESS_BYTE_COUNT	1073252
+SHUFFLE	COPY_MAP_DATA	22003000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1113386
+SHUFFLE	COMPRESS_BYTE_COUNT	1113390
+SHUFFLE	COPY_MAP_DATA	83809000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1159052
+SHUFFLE	COMPRESS_BYTE_COUNT	1159056
+SHUFFLE	COPY_MAP_DATA	67463000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1125625
+SHUFFLE	COMPRESS_BYTE_COUNT	1125629
+SHUFFLE	COPY_MAP_DATA	2155192000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1067763
+SHUFFLE	COMPRESS_BYTE_COUNT	1067767
+SHUFFLE	COPY_MAP_DATA	63613000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1087428
+SHUFFLE	COMPRESS_BYTE_COUNT	1087432
+SHUFFLE	COPY_MAP_DATA	176874000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1109735
+SHUFFLE	COMPRESS_BYTE_COUNT	1109739
+SHUFFLE	COPY_MAP_DATA	65582000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1143065
+SHUFFLE	COMPRESS_BYTE_COUNT	1143069
+SHUFFLE	COPY_MAP_DATA	146840000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1125719
+SHUFFLE	COMPRESS_BYTE_COUNT	1125723
+SHUFFLE	COPY_MAP_DATA	266988000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1023453
+SHUFFLE	COMPRESS_BYTE_COUNT	1023457
+SHUFFLE	COPY_MAP_DATA	22281000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1125983
+SHUFFLE	COMPRESS_BYTE_COUNT	1125987
+SHUFFLE	COPY_MAP_DATA	29999000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1134870
+SHUFFLE	COMPRESS_BYTE_COUNT	1134874
+SHUFFLE	COPY_MAP_DATA	58952000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1113306
+SHUFFLE	COMPRESS_BYTE_COUNT	1113310
+SHUFFLE	COPY_MAP_DATA	100298000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	947717
+SHUFFLE	COMPRESS_BYTE_COUNT	947721
+SHUFFLE	COPY_MAP_DATA	161423000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1248199
+SHUFFLE	COMPRESS_BYTE_COUNT	1248203
+SHUFFLE	COPY_MAP_DATA	30179000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1092027
+SHUFFLE	COMPRESS_BYTE_COUNT	1092031
+SHUFFLE	COPY_MAP_DATA	42643000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1125073
+SHUFFLE	COMPRESS_BYTE_COUNT	1125077
+SHUFFLE	COPY_MAP_DATA	31333000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1117832
+SHUFFLE	COMPRESS_BYTE_COUNT	1117836
+SHUFFLE	COPY_MAP_DATA	27256000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1009265
+SHUFFLE	COMPRESS_BYTE_COUNT	1009269
+SHUFFLE	COPY_MAP_DATA	98194000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1130806
+SHUFFLE	COMPRESS_BYTE_COUNT	1130810
+SHUFFLE	COPY_MAP_DATA	58282000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1117583
+SHUFFLE	COMPRESS_BYTE_COUNT	1117587
+SHUFFLE	COPY_MAP_DATA	225473000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1093657
+SHUFFLE	COMPRESS_BYTE_COUNT	1093661
+SHUFFLE	COPY_MAP_DATA	294618000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1182798
+SHUFFLE	COMPRESS_BYTE_COUNT	1182802
+SHUFFLE	COPY_MAP_DATA	46225000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1099112
+SHUFFLE	COMPRESS_BYTE_COUNT	1099116
+SHUFFLE	COPY_MAP_DATA	64993000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1004911
+SHUFFLE	COMPRESS_BYTE_COUNT	1004915
+SHUFFLE	COPY_MAP_DATA	158048000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	804303
+SHUFFLE	COMPRESS_BYTE_COUNT	804307
+SHUFFLE	COPY_MAP_DATA	162248000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	797947
+SHUFFLE	COMPRESS_BYTE_COUNT	797951
+SHUFFLE	COPY_MAP_DATA	44673000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	764207
+SHUFFLE	COMPRESS_BYTE_COUNT	764211
+SHUFFLE	COPY_MAP_DATA	86362000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	784321
+SHUFFLE	COMPRESS_BYTE_COUNT	784325
+SHUFFLE	COPY_MAP_DATA	50783000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	782301
+SHUFFLE	COMPRESS_BYTE_COUNT	782305
+SHUFFLE	COPY_MAP_DATA	474303000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	756010
+SHUFFLE	COMPRESS_BYTE_COUNT	756014
+SHUFFLE	COPY_MAP_DATA	66176000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	854892
+SHUFFLE	COMPRESS_BYTE_COUNT	854896
+SHUFFLE	COPY_MAP_DATA	54509000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	765512
+SHUFFLE	COMPRESS_BYTE_COUNT	765516
+SHUFFLE	COPY_MAP_DATA	26751000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	856933
+SHUFFLE	COMPRESS_BYTE_COUNT	856937
+SHUFFLE	COPY_MAP_DATA	206152000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	850785
+SHUFFLE	COMPRESS_BYTE_COUNT	850789
+SHUFFLE	COPY_MAP_DATA	18834000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	749657
+SHUFFLE	COMPRESS_BYTE_COUNT	749661
+SHUFFLE	COPY_MAP_DATA	15235000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	755625
+SHUFFLE	COMPRESS_BYTE_COUNT	755629
+SHUFFLE	COPY_MAP_DATA	51050000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	775609
+SHUFFLE	COMPRESS_BYTE_COUNT	775613
+SHUFFLE	COPY_MAP_DATA	20351000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	754411
+SHUFFLE	COMPRESS_BYTE_COUNT	754415
+SHUFFLE	COPY_MAP_DATA	28141000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	779879
+SHUFFLE	COMPRESS_BYTE_COUNT	779883
+SHUFFLE	COPY_MAP_DATA	16922000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	763470
+SHUFFLE	COMPRESS_BYTE_COUNT	763474
+SHUFFLE	COPY_MAP_DATA	97438000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	743925
+SHUFFLE	COMPRESS_BYTE_COUNT	743929
+SHUFFLE	COPY_MAP_DATA	118586000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	720659
+SHUFFLE	COMPRESS_BYTE_COUNT	720663
+SHUFFLE	COPY_MAP_DATA	8705000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	778192
+SHUFFLE	COMPRESS_BYTE_COUNT	778196
+SHUFFLE	COPY_MAP_DATA	7528000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	712514
+SHUFFLE	COMPRESS_BYTE_COUNT	712518
+SHUFFLE	COPY_MAP_DATA	17717000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	747753
+SHUFFLE	COMPRESS_BYTE_COUNT	747757
+SHUFFLE	COPY_MAP_DATA	17237000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	972002
+SHUFFLE	COMPRESS_BYTE_COUNT	972006
+SHUFFLE	COPY_MAP_DATA	17568000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1118460
+SHUFFLE	COMPRESS_BYTE_COUNT	1118464
+SHUFFLE	COPY_MAP_DATA	189314000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1111438
+SHUFFLE	COMPRESS_BYTE_COUNT	1111442
+SHUFFLE	COPY_MAP_DATA	88278000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1124288
+SHUFFLE	COMPRESS_BYTE_COUNT	1124292
+SHUFFLE	COPY_MAP_DATA	18473000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	747622
+SHUFFLE	COMPRESS_BYTE_COUNT	747626
+SHUFFLE	COPY_MAP_DATA	63811000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1123087
+SHUFFLE	COMPRESS_BYTE_COUNT	1123091
+SHUFFLE	COPY_MAP_DATA	12972000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1097490
+SHUFFLE	COMPRESS_BYTE_COUNT	1097494
+SHUFFLE	COPY_MAP_DATA	17185000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1158116
+SHUFFLE	COMPRESS_BYTE_COUNT	1158120
+SHUFFLE	COPY_MAP_DATA	24983000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	308100
+SHUFFLE	COMPRESS_BYTE_COUNT	308104
+SHUFFLE	COPY_MAP_DATA	48664000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	761294
+SHUFFLE	COMPRESS_BYTE_COUNT	761298
+SHUFFLE	COPY_MAP_DATA	43986000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	244905
+SHUFFLE	COMPRESS_BYTE_COUNT	244909
+SHUFFLE	COPY_MAP_DATA	174308000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	746094
+SHUFFLE	COMPRESS_BYTE_COUNT	746098
+SHUFFLE	COPY_MAP_DATA	36038000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	669446
+SHUFFLE	COMPRESS_BYTE_COUNT	669450
+SHUFFLE	COPY_MAP_DATA	59728000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	580755
+SHUFFLE	COMPRESS_BYTE_COUNT	580759
+SHUFFLE	COPY_MAP_DATA	81076000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	960671
+SHUFFLE	COMPRESS_BYTE_COUNT	960675
+SHUFFLE	COPY_MAP_DATA	102947000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	355618
+SHUFFLE	COMPRESS_BYTE_COUNT	355622
+SHUFFLE	COPY_MAP_DATA	9766000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	737249
+SHUFFLE	COMPRESS_BYTE_COUNT	737253
+SHUFFLE	COPY_MAP_DATA	33554000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	467765
+SHUFFLE	COMPRESS_BYTE_COUNT	467769
+SHUFFLE	COPY_MAP_DATA	235259000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	668543
+SHUFFLE	COMPRESS_BYTE_COUNT	668547
+SHUFFLE	COPY_MAP_DATA	33041000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	405386
+SHUFFLE	COMPRESS_BYTE_COUNT	405390
+SHUFFLE	COPY_MAP_DATA	13885000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	708954
+SHUFFLE	COMPRESS_BYTE_COUNT	708958
+SHUFFLE	COPY_MAP_DATA	14116000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	715972
+SHUFFLE	COMPRESS_BYTE_COUNT	715976
+SHUFFLE	COPY_MAP_DATA	147029000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	722430
+SHUFFLE	COMPRESS_BYTE_COUNT	722434
+SHUFFLE	COPY_MAP_DATA	790134000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	758025
+SHUFFLE	COMPRESS_BYTE_COUNT	758029
+SHUFFLE	COPY_MAP_DATA	39990000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	140628
+SHUFFLE	COMPRESS_BYTE_COUNT	140632
+SHUFFLE	COPY_MAP_DATA	40017000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	184290
+SHUFFLE	COMPRESS_BYTE_COUNT	184294
+SHUFFLE	COPY_MAP_DATA	8146000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	735155
+SHUFFLE	COMPRESS_BYTE_COUNT	735159
+SHUFFLE	COPY_MAP_DATA	26022000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	643355
+SHUFFLE	COMPRESS_BYTE_COUNT	643359
+SHUFFLE	COPY_MAP_DATA	13275000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	218003
+SHUFFLE	COMPRESS_BYTE_COUNT	218007
+SHUFFLE	COPY_MAP_DATA	31655000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	519581
+SHUFFLE	COMPRESS_BYTE_COUNT	519585
+SHUFFLE	COPY_MAP_DATA	11229000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	207161
+SHUFFLE	COMPRESS_BYTE_COUNT	207165
+SHUFFLE	COPY_MAP_DATA	6194000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	316744
+SHUFFLE	COMPRESS_BYTE_COUNT	316748
+SHUFFLE	COPY_MAP_DATA	8458000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	222147
+SHUFFLE	COMPRESS_BYTE_COUNT	222151
+SHUFFLE	COPY_MAP_DATA	10201000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	653676
+SHUFFLE	COMPRESS_BYTE_COUNT	653680
+SHUFFLE	COPY_MAP_DATA	70084000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	508807
+SHUFFLE	COMPRESS_BYTE_COUNT	508811
+SHUFFLE	COPY_MAP_DATA	44710000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	170009
+SHUFFLE	COMPRESS_BYTE_COUNT	170013
+SHUFFLE	COPY_MAP_DATA	6438000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	489407
+SHUFFLE	COMPRESS_BYTE_COUNT	489411
+SHUFFLE	COPY_MAP_DATA	11729000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	654272
+SHUFFLE	COMPRESS_BYTE_COUNT	654276
+SHUFFLE	COPY_MAP_DATA	13525000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	724113
+SHUFFLE	COMPRESS_BYTE_COUNT	724117
+SHUFFLE	COPY_MAP_DATA	14269000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	530668
+SHUFFLE	COMPRESS_BYTE_COUNT	530672
+SHUFFLE	COPY_MAP_DATA	189961000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	446657
+SHUFFLE	COMPRESS_BYTE_COUNT	446661
+SHUFFLE	COPY_MAP_DATA	13371000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	746462
+SHUFFLE	COMPRESS_BYTE_COUNT	746466
+SHUFFLE	COPY_MAP_DATA	15612000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	698184
+SHUFFLE	COMPRESS_BYTE_COUNT	698188
+SHUFFLE	COPY_MAP_DATA	11172000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	642525
+SHUFFLE	COMPRESS_BYTE_COUNT	642529
+SHUFFLE	COPY_MAP_DATA	32827000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	409700
+SHUFFLE	COMPRESS_BYTE_COUNT	409704
+SHUFFLE	COPY_MAP_DATA	12404000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	795800
+SHUFFLE	COMPRESS_BYTE_COUNT	795804
+SHUFFLE	COPY_MAP_DATA	25128000
+SHUFFLE	UNCOMPRESS	0
+SORT	MERGE_MAP_DATA	10277624000
+SORT	READ_WRITE	10193250000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	83416336
+REDUCE	SETUP	358000
+REDUCE	SETUP_MEM	83416336
+REDUCE	CLEANUP	35000
+REDUCE	CLEANUP_MEM	98568600
+REDUCE	TOTAL_RUN	19840398000
+REDUCE	READ	668757000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	11090303000
+REDUCE	WRITE	3420551000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	11649606
+REDUCE	VALUE_BYTE_COUNT	1194214
+REDUCE	REDUCE_MEM	98570648
+REDUCE	WRITE	16686000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	523549960584
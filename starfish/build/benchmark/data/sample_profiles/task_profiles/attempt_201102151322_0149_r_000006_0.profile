@@ -0,0 +1,410 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	792634
+SHUFFLE	COMPRESS_BYTE_COUNT	792638
+SHUFFLE	COPY_MAP_DATA	63514000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1024786
+SHUFFLE	COMPRESS_BYTE_COUNT	1024790
+SHUFFLE	COPY_MAP_DATA	2467891000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1041648
+SHUFFLE	COMPRESS_BYTE_COUNT	1041652
+SHUFFLE	COPY_MAP_DATA	43076000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1090398
+SHUFFLE	COMPRESS_BYTE_COUNT	1090402
+SHUFFLE	COPY_MAP_DATA	64494000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1006937
+SHUFFLE	COMPRESS_BYTE_COUNT	1006941
+SHUFFLE	COPY_MAP_DATA	74420000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1106990
+SHUFFLE	COMPRESS_BYTE_COUNT	1106994
+SHUFFLE	COPY_MAP_DATA	37470000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1102305
+SHUFFLE	COMPRESS_BYTE_COUNT	1102309
+SHUFFLE	COPY_MAP_DATA	90646000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1120119
+SHUFFLE	COMPRESS_BYTE_COUNT	1120123
+SHUFFLE	COPY_MAP_DATA	1726350000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1152336
+SHUFFLE	COMPRESS_BYTE_COUNT	1152340
+SHUFFLE	COPY_MAP_DATA	24030000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1072828
+SHUFFLE	COMPRESS_BYTE_COUNT	1072832
+SHUFFLE	COPY_MAP_DATA	31194000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1073637
+SHUFFLE	COMPRESS_BYTE_COUNT	1073641
+SHUFFLE	COPY_MAP_DATA	344632000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1117735
+SHUFFLE	COMPRESS_BYTE_COUNT	1117739
+SHUFFLE	COPY_MAP_DATA	20193000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1131818
+SHUFFLE	COMPRESS_BYTE_COUNT	1131822
+SHUFFLE	COPY_MAP_DATA	50045000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1144690
+SHUFFLE	COMPRESS_BYTE_COUNT	1144694
+SHUFFLE	COPY_MAP_DATA	76329000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1142082
+SHUFFLE	COMPRESS_BYTE_COUNT	1142086
+SHUFFLE	COPY_MAP_DATA	151533000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1119885
+SHUFFLE	COMPRESS_BYTE_COUNT	1119889
+SHUFFLE	COPY_MAP_DATA	44397000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1117604
+SHUFFLE	COMPRESS_BYTE_COUNT	1117608
+SHUFFLE	COPY_MAP_DATA	17265000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	952478
+SHUFFLE	COMPRESS_BYTE_COUNT	952482
+SHUFFLE	COPY_MAP_DATA	85613000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1024917
+SHUFFLE	COMPRESS_BYTE_COUNT	1024921
+SHUFFLE	COPY_MAP_DATA	1191102000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1247921
+SHUFFLE	COMPRESS_BYTE_COUNT	1247925
+SHUFFLE	COPY_MAP_DATA	88580000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1093975
+SHUFFLE	COMPRESS_BYTE_COUNT	1093979
+SHUFFLE	COPY_MAP_DATA	93908000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1126148
+SHUFFLE	COMPRESS_BYTE_COUNT	1126152
+SHUFFLE	COPY_MAP_DATA	25084000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1124755
+SHUFFLE	COMPRESS_BYTE_COUNT	1124759
+SHUFFLE	COPY_MAP_DATA	139740000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1128663
+SHUFFLE	COMPRESS_BYTE_COUNT	1128667
+SHUFFLE	COPY_MAP_DATA	1167860000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1015064
+SHUFFLE	COMPRESS_BYTE_COUNT	1015068
+SHUFFLE	COPY_MAP_DATA	43532000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1118572
+SHUFFLE	COMPRESS_BYTE_COUNT	1118576
+SHUFFLE	COPY_MAP_DATA	36671000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1090009
+SHUFFLE	COMPRESS_BYTE_COUNT	1090013
+SHUFFLE	COPY_MAP_DATA	301002000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1100228
+SHUFFLE	COMPRESS_BYTE_COUNT	1100232
+SHUFFLE	COPY_MAP_DATA	17749000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1182122
+SHUFFLE	COMPRESS_BYTE_COUNT	1182126
+SHUFFLE	COPY_MAP_DATA	342919000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1002853
+SHUFFLE	COMPRESS_BYTE_COUNT	1002857
+SHUFFLE	COPY_MAP_DATA	16756000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	799835
+SHUFFLE	COMPRESS_BYTE_COUNT	799839
+SHUFFLE	COPY_MAP_DATA	220338000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	799507
+SHUFFLE	COMPRESS_BYTE_COUNT	799511
+SHUFFLE	COPY_MAP_DATA	1091114000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	756172
+SHUFFLE	COMPRESS_BYTE_COUNT	756176
+SHUFFLE	COPY_MAP_DATA	16294000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	790366
+SHUFFLE	COMPRESS_BYTE_COUNT	790370
+SHUFFLE	COPY_MAP_DATA	143417000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	757216
+SHUFFLE	COMPRESS_BYTE_COUNT	757220
+SHUFFLE	COPY_MAP_DATA	249231000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	780960
+SHUFFLE	COMPRESS_BYTE_COUNT	780964
+SHUFFLE	COPY_MAP_DATA	58541000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	760621
+SHUFFLE	COMPRESS_BYTE_COUNT	760625
+SHUFFLE	COPY_MAP_DATA	15774000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	851220
+SHUFFLE	COMPRESS_BYTE_COUNT	851224
+SHUFFLE	COPY_MAP_DATA	1460416000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	850186
+SHUFFLE	COMPRESS_BYTE_COUNT	850190
+SHUFFLE	COPY_MAP_DATA	1147970000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	849634
+SHUFFLE	COMPRESS_BYTE_COUNT	849638
+SHUFFLE	COPY_MAP_DATA	355688000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	744559
+SHUFFLE	COMPRESS_BYTE_COUNT	744563
+SHUFFLE	COPY_MAP_DATA	358584000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	759169
+SHUFFLE	COMPRESS_BYTE_COUNT	759173
+SHUFFLE	COPY_MAP_DATA	129445000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	753091
+SHUFFLE	COMPRESS_BYTE_COUNT	753095
+SHUFFLE	COPY_MAP_DATA	500245000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	775858
+SHUFFLE	COMPRESS_BYTE_COUNT	775862
+SHUFFLE	COPY_MAP_DATA	102648000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	771404
+SHUFFLE	COMPRESS_BYTE_COUNT	771408
+SHUFFLE	COPY_MAP_DATA	157659000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	757407
+SHUFFLE	COMPRESS_BYTE_COUNT	757411
+SHUFFLE	COPY_MAP_DATA	15130000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	749738
+SHUFFLE	COMPRESS_BYTE_COUNT	749742
+SHUFFLE	COPY_MAP_DATA	2918812000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	718785
+SHUFFLE	COMPRESS_BYTE_COUNT	718789
+SHUFFLE	COPY_MAP_DATA	73695000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	711856
+SHUFFLE	COMPRESS_BYTE_COUNT	711860
+SHUFFLE	COPY_MAP_DATA	13677000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	781853
+SHUFFLE	COMPRESS_BYTE_COUNT	781857
+SHUFFLE	COPY_MAP_DATA	8515000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	751735
+SHUFFLE	COMPRESS_BYTE_COUNT	751739
+SHUFFLE	COPY_MAP_DATA	21898000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1111984
+SHUFFLE	COMPRESS_BYTE_COUNT	1111988
+SHUFFLE	COPY_MAP_DATA	984453000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1126414
+SHUFFLE	COMPRESS_BYTE_COUNT	1126418
+SHUFFLE	COPY_MAP_DATA	22084000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	975075
+SHUFFLE	COMPRESS_BYTE_COUNT	975079
+SHUFFLE	COPY_MAP_DATA	18653000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	742527
+SHUFFLE	COMPRESS_BYTE_COUNT	742531
+SHUFFLE	COPY_MAP_DATA	39274000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1118255
+SHUFFLE	COMPRESS_BYTE_COUNT	1118259
+SHUFFLE	COPY_MAP_DATA	59595000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1126932
+SHUFFLE	COMPRESS_BYTE_COUNT	1126936
+SHUFFLE	COPY_MAP_DATA	12398000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1094945
+SHUFFLE	COMPRESS_BYTE_COUNT	1094949
+SHUFFLE	COPY_MAP_DATA	1684884000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1161033
+SHUFFLE	COMPRESS_BYTE_COUNT	1161037
+SHUFFLE	COPY_MAP_DATA	24473000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	310259
+SHUFFLE	COMPRESS_BYTE_COUNT	310263
+SHUFFLE	COPY_MAP_DATA	456480000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	758687
+SHUFFLE	COMPRESS_BYTE_COUNT	758691
+SHUFFLE	COPY_MAP_DATA	24050000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	746841
+SHUFFLE	COMPRESS_BYTE_COUNT	746845
+SHUFFLE	COPY_MAP_DATA	14771000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	241387
+SHUFFLE	COMPRESS_BYTE_COUNT	241391
+SHUFFLE	COPY_MAP_DATA	10238000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	665310
+SHUFFLE	COMPRESS_BYTE_COUNT	665314
+SHUFFLE	COPY_MAP_DATA	24369000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	965000
+SHUFFLE	COMPRESS_BYTE_COUNT	965004
+SHUFFLE	COPY_MAP_DATA	109896000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	572061
+SHUFFLE	COMPRESS_BYTE_COUNT	572065
+SHUFFLE	COPY_MAP_DATA	6933000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	354254
+SHUFFLE	COMPRESS_BYTE_COUNT	354258
+SHUFFLE	COPY_MAP_DATA	135117000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	741519
+SHUFFLE	COMPRESS_BYTE_COUNT	741523
+SHUFFLE	COPY_MAP_DATA	24346000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	706136
+SHUFFLE	COMPRESS_BYTE_COUNT	706140
+SHUFFLE	COPY_MAP_DATA	6970000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	412006
+SHUFFLE	COMPRESS_BYTE_COUNT	412010
+SHUFFLE	COPY_MAP_DATA	30165000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	471467
+SHUFFLE	COMPRESS_BYTE_COUNT	471471
+SHUFFLE	COPY_MAP_DATA	17315000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	673650
+SHUFFLE	COMPRESS_BYTE_COUNT	673654
+SHUFFLE	COPY_MAP_DATA	24605000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	726027
+SHUFFLE	COMPRESS_BYTE_COUNT	726031
+SHUFFLE	COPY_MAP_DATA	25013000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	715347
+SHUFFLE	COMPRESS_BYTE_COUNT	715351
+SHUFFLE	COPY_MAP_DATA	12999000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	139088
+SHUFFLE	COMPRESS_BYTE_COUNT	139092
+SHUFFLE	COPY_MAP_DATA	3220000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	756004
+SHUFFLE	COMPRESS_BYTE_COUNT	756008
+SHUFFLE	COPY_MAP_DATA	25973000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	183749
+SHUFFLE	COMPRESS_BYTE_COUNT	183753
+SHUFFLE	COPY_MAP_DATA	7711000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	638491
+SHUFFLE	COMPRESS_BYTE_COUNT	638495
+SHUFFLE	COPY_MAP_DATA	15004000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	732185
+SHUFFLE	COMPRESS_BYTE_COUNT	732189
+SHUFFLE	COPY_MAP_DATA	14128000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	517096
+SHUFFLE	COMPRESS_BYTE_COUNT	517100
+SHUFFLE	COPY_MAP_DATA	23233000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	214493
+SHUFFLE	COMPRESS_BYTE_COUNT	214497
+SHUFFLE	COPY_MAP_DATA	8034000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	206611
+SHUFFLE	COMPRESS_BYTE_COUNT	206615
+SHUFFLE	COPY_MAP_DATA	6954000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	317712
+SHUFFLE	COMPRESS_BYTE_COUNT	317716
+SHUFFLE	COPY_MAP_DATA	4800000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	659606
+SHUFFLE	COMPRESS_BYTE_COUNT	659610
+SHUFFLE	COPY_MAP_DATA	86825000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	504295
+SHUFFLE	COMPRESS_BYTE_COUNT	504299
+SHUFFLE	COPY_MAP_DATA	26624000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	220278
+SHUFFLE	COMPRESS_BYTE_COUNT	220282
+SHUFFLE	COPY_MAP_DATA	13100000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	171401
+SHUFFLE	COMPRESS_BYTE_COUNT	171405
+SHUFFLE	COPY_MAP_DATA	6951000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	484795
+SHUFFLE	COMPRESS_BYTE_COUNT	484799
+SHUFFLE	COPY_MAP_DATA	14486000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	649633
+SHUFFLE	COMPRESS_BYTE_COUNT	649637
+SHUFFLE	COPY_MAP_DATA	16962000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	524899
+SHUFFLE	COMPRESS_BYTE_COUNT	524903
+SHUFFLE	COPY_MAP_DATA	2010122000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	721289
+SHUFFLE	COMPRESS_BYTE_COUNT	721293
+SHUFFLE	COPY_MAP_DATA	33310000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	654474
+SHUFFLE	COMPRESS_BYTE_COUNT	654478
+SHUFFLE	COPY_MAP_DATA	17318000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	701654
+SHUFFLE	COMPRESS_BYTE_COUNT	701658
+SHUFFLE	COPY_MAP_DATA	246085000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	446173
+SHUFFLE	COMPRESS_BYTE_COUNT	446177
+SHUFFLE	COPY_MAP_DATA	10848000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	745578
+SHUFFLE	COMPRESS_BYTE_COUNT	745582
+SHUFFLE	COPY_MAP_DATA	26707000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	408689
+SHUFFLE	COMPRESS_BYTE_COUNT	408693
+SHUFFLE	COPY_MAP_DATA	13518000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	791894
+SHUFFLE	COMPRESS_BYTE_COUNT	791898
+SHUFFLE	COPY_MAP_DATA	37233000
+SHUFFLE	UNCOMPRESS	0
+SORT	MERGE_MAP_DATA	9759088000
+SORT	READ_WRITE	9634167000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	108854688
+REDUCE	SETUP	870000
+REDUCE	SETUP_MEM	108854688
+REDUCE	CLEANUP	34000
+REDUCE	CLEANUP_MEM	105620392
+REDUCE	TOTAL_RUN	15800847000
+REDUCE	READ	953053000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	9550400000
+REDUCE	WRITE	2767043000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	11673638
+REDUCE	VALUE_BYTE_COUNT	1196266
+REDUCE	REDUCE_MEM	105620392
+REDUCE	WRITE	10123000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	508861134330
@@ -0,0 +1,410 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	802514
+SHUFFLE	COMPRESS_BYTE_COUNT	802518
+SHUFFLE	COPY_MAP_DATA	89523000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1097357
+SHUFFLE	COMPRESS_BYTE_COUNT	1097361
+SHUFFLE	COPY_MAP_DATA	56511000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1041327
+SHUFFLE	COMPRESS_BYTE_COUNT	1041331
+SHUFFLE	COPY_MAP_DATA	59444000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1010477
+SHUFFLE	COMPRESS_BYTE_COUNT	1010481
+SHUFFLE	COPY_MAP_DATA	84234000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1019252
+SHUFFLE	COMPRESS_BYTE_COUNT	1019256
+SHUFFLE	COPY_MAP_DATA	213408000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1110798
+SHUFFLE	COMPRESS_BYTE_COUNT	1110802
+SHUFFLE	COPY_MAP_DATA	24784000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1069390
+SHUFFLE	COMPRESS_BYTE_COUNT	1069394
+SHUFFLE	COPY_MAP_DATA	13729000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1101385
+SHUFFLE	COMPRESS_BYTE_COUNT	1101389
+SHUFFLE	COPY_MAP_DATA	230267000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1082138
+SHUFFLE	COMPRESS_BYTE_COUNT	1082142
+SHUFFLE	COPY_MAP_DATA	26057000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1153473
+SHUFFLE	COMPRESS_BYTE_COUNT	1153477
+SHUFFLE	COPY_MAP_DATA	3962100000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1064646
+SHUFFLE	COMPRESS_BYTE_COUNT	1064650
+SHUFFLE	COPY_MAP_DATA	52201000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1124129
+SHUFFLE	COMPRESS_BYTE_COUNT	1124133
+SHUFFLE	COPY_MAP_DATA	1987976000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1118833
+SHUFFLE	COMPRESS_BYTE_COUNT	1118837
+SHUFFLE	COPY_MAP_DATA	345338000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1140202
+SHUFFLE	COMPRESS_BYTE_COUNT	1140206
+SHUFFLE	COPY_MAP_DATA	24277000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1124953
+SHUFFLE	COMPRESS_BYTE_COUNT	1124957
+SHUFFLE	COPY_MAP_DATA	201730000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1025433
+SHUFFLE	COMPRESS_BYTE_COUNT	1025437
+SHUFFLE	COPY_MAP_DATA	40096000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	949506
+SHUFFLE	COMPRESS_BYTE_COUNT	949510
+SHUFFLE	COPY_MAP_DATA	22321000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1136526
+SHUFFLE	COMPRESS_BYTE_COUNT	1136530
+SHUFFLE	COPY_MAP_DATA	26129000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1107766
+SHUFFLE	COMPRESS_BYTE_COUNT	1107770
+SHUFFLE	COPY_MAP_DATA	107978000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1242958
+SHUFFLE	COMPRESS_BYTE_COUNT	1242962
+SHUFFLE	COPY_MAP_DATA	49303000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1093114
+SHUFFLE	COMPRESS_BYTE_COUNT	1093118
+SHUFFLE	COPY_MAP_DATA	47980000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1127781
+SHUFFLE	COMPRESS_BYTE_COUNT	1127785
+SHUFFLE	COPY_MAP_DATA	193911000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1127526
+SHUFFLE	COMPRESS_BYTE_COUNT	1127530
+SHUFFLE	COPY_MAP_DATA	323681000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1121699
+SHUFFLE	COMPRESS_BYTE_COUNT	1121703
+SHUFFLE	COPY_MAP_DATA	33041000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1021396
+SHUFFLE	COMPRESS_BYTE_COUNT	1021400
+SHUFFLE	COPY_MAP_DATA	66543000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1112744
+SHUFFLE	COMPRESS_BYTE_COUNT	1112748
+SHUFFLE	COPY_MAP_DATA	65903000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1094206
+SHUFFLE	COMPRESS_BYTE_COUNT	1094210
+SHUFFLE	COPY_MAP_DATA	1251229000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1090974
+SHUFFLE	COMPRESS_BYTE_COUNT	1090978
+SHUFFLE	COPY_MAP_DATA	19005000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1179605
+SHUFFLE	COMPRESS_BYTE_COUNT	1179609
+SHUFFLE	COPY_MAP_DATA	88297000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	999141
+SHUFFLE	COMPRESS_BYTE_COUNT	999145
+SHUFFLE	COPY_MAP_DATA	84107000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	800771
+SHUFFLE	COMPRESS_BYTE_COUNT	800775
+SHUFFLE	COPY_MAP_DATA	64586000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	800083
+SHUFFLE	COMPRESS_BYTE_COUNT	800087
+SHUFFLE	COPY_MAP_DATA	620093000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	753054
+SHUFFLE	COMPRESS_BYTE_COUNT	753058
+SHUFFLE	COPY_MAP_DATA	35556000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	784745
+SHUFFLE	COMPRESS_BYTE_COUNT	784749
+SHUFFLE	COPY_MAP_DATA	45995000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	749938
+SHUFFLE	COMPRESS_BYTE_COUNT	749942
+SHUFFLE	COPY_MAP_DATA	14232000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	785402
+SHUFFLE	COMPRESS_BYTE_COUNT	785406
+SHUFFLE	COPY_MAP_DATA	15695000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	760935
+SHUFFLE	COMPRESS_BYTE_COUNT	760939
+SHUFFLE	COPY_MAP_DATA	16146000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	851403
+SHUFFLE	COMPRESS_BYTE_COUNT	851407
+SHUFFLE	COPY_MAP_DATA	2542746000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	846427
+SHUFFLE	COMPRESS_BYTE_COUNT	846431
+SHUFFLE	COPY_MAP_DATA	253547000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	843213
+SHUFFLE	COMPRESS_BYTE_COUNT	843217
+SHUFFLE	COPY_MAP_DATA	59209000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	745770
+SHUFFLE	COMPRESS_BYTE_COUNT	745774
+SHUFFLE	COPY_MAP_DATA	14802000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	756297
+SHUFFLE	COMPRESS_BYTE_COUNT	756301
+SHUFFLE	COPY_MAP_DATA	17142000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	769037
+SHUFFLE	COMPRESS_BYTE_COUNT	769041
+SHUFFLE	COPY_MAP_DATA	18119000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	746337
+SHUFFLE	COMPRESS_BYTE_COUNT	746341
+SHUFFLE	COPY_MAP_DATA	136199000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	768607
+SHUFFLE	COMPRESS_BYTE_COUNT	768611
+SHUFFLE	COPY_MAP_DATA	8037000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	763310
+SHUFFLE	COMPRESS_BYTE_COUNT	763314
+SHUFFLE	COPY_MAP_DATA	274573000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	750220
+SHUFFLE	COMPRESS_BYTE_COUNT	750224
+SHUFFLE	COPY_MAP_DATA	7434000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	719912
+SHUFFLE	COMPRESS_BYTE_COUNT	719916
+SHUFFLE	COPY_MAP_DATA	59612000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	773769
+SHUFFLE	COMPRESS_BYTE_COUNT	773773
+SHUFFLE	COPY_MAP_DATA	103961000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	713696
+SHUFFLE	COMPRESS_BYTE_COUNT	713700
+SHUFFLE	COPY_MAP_DATA	17292000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	743594
+SHUFFLE	COMPRESS_BYTE_COUNT	743598
+SHUFFLE	COPY_MAP_DATA	31971000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	977561
+SHUFFLE	COMPRESS_BYTE_COUNT	977565
+SHUFFLE	COPY_MAP_DATA	75864000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	745311
+SHUFFLE	COMPRESS_BYTE_COUNT	745315
+SHUFFLE	COPY_MAP_DATA	15482000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1122029
+SHUFFLE	COMPRESS_BYTE_COUNT	1122033
+SHUFFLE	COPY_MAP_DATA	40848000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1129213
+SHUFFLE	COMPRESS_BYTE_COUNT	1129217
+SHUFFLE	COPY_MAP_DATA	28324000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1112249
+SHUFFLE	COMPRESS_BYTE_COUNT	1112253
+SHUFFLE	COPY_MAP_DATA	95022000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1130138
+SHUFFLE	COMPRESS_BYTE_COUNT	1130142
+SHUFFLE	COPY_MAP_DATA	21173000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1095712
+SHUFFLE	COMPRESS_BYTE_COUNT	1095716
+SHUFFLE	COPY_MAP_DATA	25385000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1147293
+SHUFFLE	COMPRESS_BYTE_COUNT	1147297
+SHUFFLE	COPY_MAP_DATA	66615000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	308686
+SHUFFLE	COMPRESS_BYTE_COUNT	308690
+SHUFFLE	COPY_MAP_DATA	5107000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	240903
+SHUFFLE	COMPRESS_BYTE_COUNT	240907
+SHUFFLE	COPY_MAP_DATA	12639000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	759125
+SHUFFLE	COMPRESS_BYTE_COUNT	759129
+SHUFFLE	COPY_MAP_DATA	512329000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	739434
+SHUFFLE	COMPRESS_BYTE_COUNT	739438
+SHUFFLE	COPY_MAP_DATA	397287000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	660417
+SHUFFLE	COMPRESS_BYTE_COUNT	660421
+SHUFFLE	COPY_MAP_DATA	57707000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	959646
+SHUFFLE	COMPRESS_BYTE_COUNT	959650
+SHUFFLE	COPY_MAP_DATA	217196000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	580477
+SHUFFLE	COMPRESS_BYTE_COUNT	580481
+SHUFFLE	COPY_MAP_DATA	107154000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	733685
+SHUFFLE	COMPRESS_BYTE_COUNT	733689
+SHUFFLE	COPY_MAP_DATA	23496000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	356492
+SHUFFLE	COMPRESS_BYTE_COUNT	356496
+SHUFFLE	COPY_MAP_DATA	21276000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	406434
+SHUFFLE	COMPRESS_BYTE_COUNT	406438
+SHUFFLE	COPY_MAP_DATA	11469000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	466656
+SHUFFLE	COMPRESS_BYTE_COUNT	466660
+SHUFFLE	COPY_MAP_DATA	59787000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	667557
+SHUFFLE	COMPRESS_BYTE_COUNT	667561
+SHUFFLE	COPY_MAP_DATA	27138000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	702983
+SHUFFLE	COMPRESS_BYTE_COUNT	702987
+SHUFFLE	COPY_MAP_DATA	83330000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	708551
+SHUFFLE	COMPRESS_BYTE_COUNT	708555
+SHUFFLE	COPY_MAP_DATA	15153000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	724344
+SHUFFLE	COMPRESS_BYTE_COUNT	724348
+SHUFFLE	COPY_MAP_DATA	1008002925
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	753911
+SHUFFLE	COMPRESS_BYTE_COUNT	753915
+SHUFFLE	COPY_MAP_DATA	117238000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	138372
+SHUFFLE	COMPRESS_BYTE_COUNT	138376
+SHUFFLE	COPY_MAP_DATA	60856000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	185050
+SHUFFLE	COMPRESS_BYTE_COUNT	185054
+SHUFFLE	COPY_MAP_DATA	9707000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	216993
+SHUFFLE	COMPRESS_BYTE_COUNT	216997
+SHUFFLE	COPY_MAP_DATA	309278000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	639774
+SHUFFLE	COMPRESS_BYTE_COUNT	639778
+SHUFFLE	COPY_MAP_DATA	359929000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	517369
+SHUFFLE	COMPRESS_BYTE_COUNT	517373
+SHUFFLE	COPY_MAP_DATA	59944000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	725880
+SHUFFLE	COMPRESS_BYTE_COUNT	725884
+SHUFFLE	COPY_MAP_DATA	436645000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	317845
+SHUFFLE	COMPRESS_BYTE_COUNT	317849
+SHUFFLE	COPY_MAP_DATA	52081000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	205444
+SHUFFLE	COMPRESS_BYTE_COUNT	205448
+SHUFFLE	COPY_MAP_DATA	7897000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	169652
+SHUFFLE	COMPRESS_BYTE_COUNT	169656
+SHUFFLE	COPY_MAP_DATA	70133000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	508561
+SHUFFLE	COMPRESS_BYTE_COUNT	508565
+SHUFFLE	COPY_MAP_DATA	101455000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	221895
+SHUFFLE	COMPRESS_BYTE_COUNT	221899
+SHUFFLE	COPY_MAP_DATA	4193000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	657368
+SHUFFLE	COMPRESS_BYTE_COUNT	657372
+SHUFFLE	COPY_MAP_DATA	44646000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	487931
+SHUFFLE	COMPRESS_BYTE_COUNT	487935
+SHUFFLE	COPY_MAP_DATA	68345000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	657800
+SHUFFLE	COMPRESS_BYTE_COUNT	657804
+SHUFFLE	COPY_MAP_DATA	15010000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	532168
+SHUFFLE	COMPRESS_BYTE_COUNT	532172
+SHUFFLE	COPY_MAP_DATA	60260000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	718595
+SHUFFLE	COMPRESS_BYTE_COUNT	718599
+SHUFFLE	COPY_MAP_DATA	7631000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	694896
+SHUFFLE	COMPRESS_BYTE_COUNT	694900
+SHUFFLE	COPY_MAP_DATA	13350000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	446926
+SHUFFLE	COMPRESS_BYTE_COUNT	446930
+SHUFFLE	COPY_MAP_DATA	12166000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	642760
+SHUFFLE	COMPRESS_BYTE_COUNT	642764
+SHUFFLE	COPY_MAP_DATA	13705000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	747695
+SHUFFLE	COMPRESS_BYTE_COUNT	747699
+SHUFFLE	COPY_MAP_DATA	15037000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	406369
+SHUFFLE	COMPRESS_BYTE_COUNT	406373
+SHUFFLE	COPY_MAP_DATA	14015000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	796194
+SHUFFLE	COMPRESS_BYTE_COUNT	796198
+SHUFFLE	COPY_MAP_DATA	16711000
+SHUFFLE	UNCOMPRESS	0
+SORT	MERGE_MAP_DATA	10028525000
+SORT	READ_WRITE	9960272000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	106168632
+REDUCE	SETUP	341000
+REDUCE	SETUP_MEM	106168632
+REDUCE	CLEANUP	34000
+REDUCE	CLEANUP_MEM	81823056
+REDUCE	TOTAL_RUN	19675267230
+REDUCE	READ	737595000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	10946258000
+REDUCE	WRITE	3281674000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	11654310
+REDUCE	VALUE_BYTE_COUNT	1194561
+REDUCE	REDUCE_MEM	81823056
+REDUCE	WRITE	7688000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	518573141326
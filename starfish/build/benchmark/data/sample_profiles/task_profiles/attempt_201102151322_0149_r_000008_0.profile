@@ -0,0 +1,410 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	995817
+SHUFFLE	COMPRESS_BYTE_COUNT	995821
+SHUFFLE	COPY_MAP_DATA	144574000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1012258
+SHUFFLE	COMPRESS_BYTE_COUNT	1012262
+SHUFFLE	COPY_MAP_DATA	1664590000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1028676
+SHUFFLE	COMPRESS_BYTE_COUNT	1028680
+SHUFFLE	COPY_MAP_DATA	29786000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1085352
+SHUFFLE	COMPRESS_BYTE_COUNT	1085356
+SHUFFLE	COPY_MAP_DATA	612916000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	788754
+SHUFFLE	COMPRESS_BYTE_COUNT	788758
+SHUFFLE	COPY_MAP_DATA	15089000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1063906
+SHUFFLE	COMPRESS_BYTE_COUNT	1063910
+SHUFFLE	COPY_MAP_DATA	17794000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1094301
+SHUFFLE	COMPRESS_BYTE_COUNT	1094305
+SHUFFLE	COPY_MAP_DATA	42534000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1061420
+SHUFFLE	COMPRESS_BYTE_COUNT	1061424
+SHUFFLE	COPY_MAP_DATA	14974000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1141183
+SHUFFLE	COMPRESS_BYTE_COUNT	1141187
+SHUFFLE	COPY_MAP_DATA	5248955656
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1095341
+SHUFFLE	COMPRESS_BYTE_COUNT	1095345
+SHUFFLE	COPY_MAP_DATA	13606000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1069487
+SHUFFLE	COMPRESS_BYTE_COUNT	1069491
+SHUFFLE	COPY_MAP_DATA	152747000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1106738
+SHUFFLE	COMPRESS_BYTE_COUNT	1106742
+SHUFFLE	COPY_MAP_DATA	6793839000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1112527
+SHUFFLE	COMPRESS_BYTE_COUNT	1112531
+SHUFFLE	COPY_MAP_DATA	35633000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1130446
+SHUFFLE	COMPRESS_BYTE_COUNT	1130450
+SHUFFLE	COPY_MAP_DATA	207193000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	942176
+SHUFFLE	COMPRESS_BYTE_COUNT	942180
+SHUFFLE	COPY_MAP_DATA	410838000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1124084
+SHUFFLE	COMPRESS_BYTE_COUNT	1124088
+SHUFFLE	COPY_MAP_DATA	199908000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1012398
+SHUFFLE	COMPRESS_BYTE_COUNT	1012402
+SHUFFLE	COPY_MAP_DATA	64333000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1114102
+SHUFFLE	COMPRESS_BYTE_COUNT	1114106
+SHUFFLE	COPY_MAP_DATA	60929000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1097670
+SHUFFLE	COMPRESS_BYTE_COUNT	1097674
+SHUFFLE	COPY_MAP_DATA	277405000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1231078
+SHUFFLE	COMPRESS_BYTE_COUNT	1231082
+SHUFFLE	COPY_MAP_DATA	5002105000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1114759
+SHUFFLE	COMPRESS_BYTE_COUNT	1114763
+SHUFFLE	COPY_MAP_DATA	1262707000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1079321
+SHUFFLE	COMPRESS_BYTE_COUNT	1079325
+SHUFFLE	COPY_MAP_DATA	87469000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1113499
+SHUFFLE	COMPRESS_BYTE_COUNT	1113503
+SHUFFLE	COPY_MAP_DATA	1196205000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1119785
+SHUFFLE	COMPRESS_BYTE_COUNT	1119789
+SHUFFLE	COPY_MAP_DATA	19585000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1106495
+SHUFFLE	COMPRESS_BYTE_COUNT	1106499
+SHUFFLE	COPY_MAP_DATA	832482000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1003507
+SHUFFLE	COMPRESS_BYTE_COUNT	1003511
+SHUFFLE	COPY_MAP_DATA	1565575000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1081451
+SHUFFLE	COMPRESS_BYTE_COUNT	1081455
+SHUFFLE	COPY_MAP_DATA	667493000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1084415
+SHUFFLE	COMPRESS_BYTE_COUNT	1084419
+SHUFFLE	COPY_MAP_DATA	75329000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1174491
+SHUFFLE	COMPRESS_BYTE_COUNT	1174495
+SHUFFLE	COPY_MAP_DATA	1494160000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	981750
+SHUFFLE	COMPRESS_BYTE_COUNT	981754
+SHUFFLE	COPY_MAP_DATA	466684000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	794273
+SHUFFLE	COMPRESS_BYTE_COUNT	794277
+SHUFFLE	COPY_MAP_DATA	127605000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	790798
+SHUFFLE	COMPRESS_BYTE_COUNT	790802
+SHUFFLE	COPY_MAP_DATA	2739653000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	751814
+SHUFFLE	COMPRESS_BYTE_COUNT	751818
+SHUFFLE	COPY_MAP_DATA	166176000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	780997
+SHUFFLE	COMPRESS_BYTE_COUNT	781001
+SHUFFLE	COPY_MAP_DATA	65309000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	774920
+SHUFFLE	COMPRESS_BYTE_COUNT	774924
+SHUFFLE	COPY_MAP_DATA	51383000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	747062
+SHUFFLE	COMPRESS_BYTE_COUNT	747066
+SHUFFLE	COPY_MAP_DATA	14126000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	753829
+SHUFFLE	COMPRESS_BYTE_COUNT	753833
+SHUFFLE	COPY_MAP_DATA	18512000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	850019
+SHUFFLE	COMPRESS_BYTE_COUNT	850023
+SHUFFLE	COPY_MAP_DATA	25208000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	842533
+SHUFFLE	COMPRESS_BYTE_COUNT	842537
+SHUFFLE	COPY_MAP_DATA	328201000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	838750
+SHUFFLE	COMPRESS_BYTE_COUNT	838754
+SHUFFLE	COPY_MAP_DATA	77519000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	738463
+SHUFFLE	COMPRESS_BYTE_COUNT	738467
+SHUFFLE	COPY_MAP_DATA	135229000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	751714
+SHUFFLE	COMPRESS_BYTE_COUNT	751718
+SHUFFLE	COPY_MAP_DATA	1805340000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	748589
+SHUFFLE	COMPRESS_BYTE_COUNT	748593
+SHUFFLE	COPY_MAP_DATA	13368000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	768166
+SHUFFLE	COMPRESS_BYTE_COUNT	768170
+SHUFFLE	COPY_MAP_DATA	15979000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	764425
+SHUFFLE	COMPRESS_BYTE_COUNT	764429
+SHUFFLE	COPY_MAP_DATA	14426000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	751017
+SHUFFLE	COMPRESS_BYTE_COUNT	751021
+SHUFFLE	COPY_MAP_DATA	3664407000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	737578
+SHUFFLE	COMPRESS_BYTE_COUNT	737582
+SHUFFLE	COPY_MAP_DATA	102079000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	710235
+SHUFFLE	COMPRESS_BYTE_COUNT	710239
+SHUFFLE	COPY_MAP_DATA	73527000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	769854
+SHUFFLE	COMPRESS_BYTE_COUNT	769858
+SHUFFLE	COPY_MAP_DATA	16413000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	705965
+SHUFFLE	COMPRESS_BYTE_COUNT	705969
+SHUFFLE	COPY_MAP_DATA	126107000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	735644
+SHUFFLE	COMPRESS_BYTE_COUNT	735648
+SHUFFLE	COPY_MAP_DATA	20169000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1116506
+SHUFFLE	COMPRESS_BYTE_COUNT	1116510
+SHUFFLE	COPY_MAP_DATA	20814000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	737905
+SHUFFLE	COMPRESS_BYTE_COUNT	737909
+SHUFFLE	COPY_MAP_DATA	349658000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	959380
+SHUFFLE	COMPRESS_BYTE_COUNT	959384
+SHUFFLE	COPY_MAP_DATA	21972000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1101204
+SHUFFLE	COMPRESS_BYTE_COUNT	1101208
+SHUFFLE	COPY_MAP_DATA	10273000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1107424
+SHUFFLE	COMPRESS_BYTE_COUNT	1107428
+SHUFFLE	COPY_MAP_DATA	248102000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1116933
+SHUFFLE	COMPRESS_BYTE_COUNT	1116937
+SHUFFLE	COPY_MAP_DATA	97060000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1083345
+SHUFFLE	COMPRESS_BYTE_COUNT	1083349
+SHUFFLE	COPY_MAP_DATA	65981000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1141065
+SHUFFLE	COMPRESS_BYTE_COUNT	1141069
+SHUFFLE	COPY_MAP_DATA	18702000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	309621
+SHUFFLE	COMPRESS_BYTE_COUNT	309625
+SHUFFLE	COPY_MAP_DATA	200855000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	739988
+SHUFFLE	COMPRESS_BYTE_COUNT	739992
+SHUFFLE	COPY_MAP_DATA	316797000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	239792
+SHUFFLE	COMPRESS_BYTE_COUNT	239796
+SHUFFLE	COPY_MAP_DATA	8889000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	748570
+SHUFFLE	COMPRESS_BYTE_COUNT	748574
+SHUFFLE	COPY_MAP_DATA	221889000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	655535
+SHUFFLE	COMPRESS_BYTE_COUNT	655539
+SHUFFLE	COPY_MAP_DATA	13795000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	954353
+SHUFFLE	COMPRESS_BYTE_COUNT	954357
+SHUFFLE	COPY_MAP_DATA	15056000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	354663
+SHUFFLE	COMPRESS_BYTE_COUNT	354667
+SHUFFLE	COPY_MAP_DATA	2975969000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	574547
+SHUFFLE	COMPRESS_BYTE_COUNT	574551
+SHUFFLE	COPY_MAP_DATA	33046000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	732599
+SHUFFLE	COMPRESS_BYTE_COUNT	732603
+SHUFFLE	COPY_MAP_DATA	99592000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	466531
+SHUFFLE	COMPRESS_BYTE_COUNT	466535
+SHUFFLE	COPY_MAP_DATA	12336000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	405680
+SHUFFLE	COMPRESS_BYTE_COUNT	405684
+SHUFFLE	COPY_MAP_DATA	10877000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	703463
+SHUFFLE	COMPRESS_BYTE_COUNT	703467
+SHUFFLE	COPY_MAP_DATA	26211000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	654944
+SHUFFLE	COMPRESS_BYTE_COUNT	654948
+SHUFFLE	COPY_MAP_DATA	22778000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	718563
+SHUFFLE	COMPRESS_BYTE_COUNT	718567
+SHUFFLE	COPY_MAP_DATA	1229325000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	704223
+SHUFFLE	COMPRESS_BYTE_COUNT	704227
+SHUFFLE	COPY_MAP_DATA	14467000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	137545
+SHUFFLE	COMPRESS_BYTE_COUNT	137549
+SHUFFLE	COPY_MAP_DATA	48479000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	744480
+SHUFFLE	COMPRESS_BYTE_COUNT	744484
+SHUFFLE	COPY_MAP_DATA	32854000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	720548
+SHUFFLE	COMPRESS_BYTE_COUNT	720552
+SHUFFLE	COPY_MAP_DATA	7597000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	213947
+SHUFFLE	COMPRESS_BYTE_COUNT	213951
+SHUFFLE	COPY_MAP_DATA	212415000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	509513
+SHUFFLE	COMPRESS_BYTE_COUNT	509517
+SHUFFLE	COPY_MAP_DATA	152074000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	184750
+SHUFFLE	COMPRESS_BYTE_COUNT	184754
+SHUFFLE	COPY_MAP_DATA	333189000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	634995
+SHUFFLE	COMPRESS_BYTE_COUNT	634999
+SHUFFLE	COPY_MAP_DATA	13908000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	650345
+SHUFFLE	COMPRESS_BYTE_COUNT	650349
+SHUFFLE	COPY_MAP_DATA	27375000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	205790
+SHUFFLE	COMPRESS_BYTE_COUNT	205794
+SHUFFLE	COPY_MAP_DATA	7793000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	313352
+SHUFFLE	COMPRESS_BYTE_COUNT	313356
+SHUFFLE	COPY_MAP_DATA	8835000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	220689
+SHUFFLE	COMPRESS_BYTE_COUNT	220693
+SHUFFLE	COPY_MAP_DATA	8617000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	166948
+SHUFFLE	COMPRESS_BYTE_COUNT	166952
+SHUFFLE	COPY_MAP_DATA	400718000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	496296
+SHUFFLE	COMPRESS_BYTE_COUNT	496300
+SHUFFLE	COPY_MAP_DATA	144257000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	483728
+SHUFFLE	COMPRESS_BYTE_COUNT	483732
+SHUFFLE	COPY_MAP_DATA	88465000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	646120
+SHUFFLE	COMPRESS_BYTE_COUNT	646124
+SHUFFLE	COPY_MAP_DATA	15002000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	523319
+SHUFFLE	COMPRESS_BYTE_COUNT	523323
+SHUFFLE	COPY_MAP_DATA	118876000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	708606
+SHUFFLE	COMPRESS_BYTE_COUNT	708610
+SHUFFLE	COPY_MAP_DATA	14594000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	639704
+SHUFFLE	COMPRESS_BYTE_COUNT	639708
+SHUFFLE	COPY_MAP_DATA	62929000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	741770
+SHUFFLE	COMPRESS_BYTE_COUNT	741774
+SHUFFLE	COPY_MAP_DATA	48636000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	443744
+SHUFFLE	COMPRESS_BYTE_COUNT	443748
+SHUFFLE	COPY_MAP_DATA	31629000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	692738
+SHUFFLE	COMPRESS_BYTE_COUNT	692742
+SHUFFLE	COPY_MAP_DATA	12421000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	402235
+SHUFFLE	COMPRESS_BYTE_COUNT	402239
+SHUFFLE	COPY_MAP_DATA	12141000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	785535
+SHUFFLE	COMPRESS_BYTE_COUNT	785539
+SHUFFLE	COPY_MAP_DATA	17550000
+SHUFFLE	UNCOMPRESS	0
+SORT	MERGE_MAP_DATA	9763648000
+SORT	READ_WRITE	9667638000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	108208656
+REDUCE	SETUP	488000
+REDUCE	SETUP_MEM	108208656
+REDUCE	CLEANUP	37000
+REDUCE	CLEANUP_MEM	107780744
+REDUCE	TOTAL_RUN	16748734000
+REDUCE	READ	905359000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	10054525000
+REDUCE	WRITE	2826223000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	11650867
+REDUCE	VALUE_BYTE_COUNT	1193457
+REDUCE	REDUCE_MEM	107782792
+REDUCE	WRITE	28217000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	517073987656
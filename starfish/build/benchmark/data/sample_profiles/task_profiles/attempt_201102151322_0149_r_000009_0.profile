@@ -0,0 +1,410 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1041600
+SHUFFLE	COMPRESS_BYTE_COUNT	1041604
+SHUFFLE	COPY_MAP_DATA	108067000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	798833
+SHUFFLE	COMPRESS_BYTE_COUNT	798837
+SHUFFLE	COPY_MAP_DATA	14609000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1100405
+SHUFFLE	COMPRESS_BYTE_COUNT	1100409
+SHUFFLE	COPY_MAP_DATA	392249000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1011986
+SHUFFLE	COMPRESS_BYTE_COUNT	1011990
+SHUFFLE	COPY_MAP_DATA	100775000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1027512
+SHUFFLE	COMPRESS_BYTE_COUNT	1027516
+SHUFFLE	COPY_MAP_DATA	81866000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1077879
+SHUFFLE	COMPRESS_BYTE_COUNT	1077883
+SHUFFLE	COPY_MAP_DATA	24221000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1117611
+SHUFFLE	COMPRESS_BYTE_COUNT	1117615
+SHUFFLE	COPY_MAP_DATA	93130000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1161024
+SHUFFLE	COMPRESS_BYTE_COUNT	1161028
+SHUFFLE	COPY_MAP_DATA	3914390000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1073275
+SHUFFLE	COMPRESS_BYTE_COUNT	1073279
+SHUFFLE	COPY_MAP_DATA	74614000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1107417
+SHUFFLE	COMPRESS_BYTE_COUNT	1107421
+SHUFFLE	COPY_MAP_DATA	95967000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1124949
+SHUFFLE	COMPRESS_BYTE_COUNT	1124953
+SHUFFLE	COPY_MAP_DATA	2111146000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1090372
+SHUFFLE	COMPRESS_BYTE_COUNT	1090376
+SHUFFLE	COPY_MAP_DATA	65966000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1153819
+SHUFFLE	COMPRESS_BYTE_COUNT	1153823
+SHUFFLE	COPY_MAP_DATA	64208000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1123089
+SHUFFLE	COMPRESS_BYTE_COUNT	1123093
+SHUFFLE	COPY_MAP_DATA	61048000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1132363
+SHUFFLE	COMPRESS_BYTE_COUNT	1132367
+SHUFFLE	COPY_MAP_DATA	236688000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1139836
+SHUFFLE	COMPRESS_BYTE_COUNT	1139840
+SHUFFLE	COPY_MAP_DATA	151282000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	948048
+SHUFFLE	COMPRESS_BYTE_COUNT	948052
+SHUFFLE	COPY_MAP_DATA	88059000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1027091
+SHUFFLE	COMPRESS_BYTE_COUNT	1027095
+SHUFFLE	COPY_MAP_DATA	130136000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1115655
+SHUFFLE	COMPRESS_BYTE_COUNT	1115659
+SHUFFLE	COPY_MAP_DATA	161528000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1247702
+SHUFFLE	COMPRESS_BYTE_COUNT	1247706
+SHUFFLE	COPY_MAP_DATA	98705000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1092193
+SHUFFLE	COMPRESS_BYTE_COUNT	1092197
+SHUFFLE	COPY_MAP_DATA	88913000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1127769
+SHUFFLE	COMPRESS_BYTE_COUNT	1127773
+SHUFFLE	COPY_MAP_DATA	89613000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1116027
+SHUFFLE	COMPRESS_BYTE_COUNT	1116031
+SHUFFLE	COPY_MAP_DATA	645697000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1137140
+SHUFFLE	COMPRESS_BYTE_COUNT	1137144
+SHUFFLE	COPY_MAP_DATA	35644000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1122798
+SHUFFLE	COMPRESS_BYTE_COUNT	1122802
+SHUFFLE	COPY_MAP_DATA	1260380000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1018172
+SHUFFLE	COMPRESS_BYTE_COUNT	1018176
+SHUFFLE	COPY_MAP_DATA	158626000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1087624
+SHUFFLE	COMPRESS_BYTE_COUNT	1087628
+SHUFFLE	COPY_MAP_DATA	28200000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1101515
+SHUFFLE	COMPRESS_BYTE_COUNT	1101519
+SHUFFLE	COPY_MAP_DATA	342961000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1177335
+SHUFFLE	COMPRESS_BYTE_COUNT	1177339
+SHUFFLE	COPY_MAP_DATA	21435000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	999852
+SHUFFLE	COMPRESS_BYTE_COUNT	999856
+SHUFFLE	COPY_MAP_DATA	34467000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	802048
+SHUFFLE	COMPRESS_BYTE_COUNT	802052
+SHUFFLE	COPY_MAP_DATA	61666000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	803174
+SHUFFLE	COMPRESS_BYTE_COUNT	803178
+SHUFFLE	COPY_MAP_DATA	15928000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	763002
+SHUFFLE	COMPRESS_BYTE_COUNT	763006
+SHUFFLE	COPY_MAP_DATA	74514000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	787130
+SHUFFLE	COMPRESS_BYTE_COUNT	787134
+SHUFFLE	COPY_MAP_DATA	31191000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	782139
+SHUFFLE	COMPRESS_BYTE_COUNT	782143
+SHUFFLE	COPY_MAP_DATA	78596000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	753214
+SHUFFLE	COMPRESS_BYTE_COUNT	753218
+SHUFFLE	COPY_MAP_DATA	15546000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	763411
+SHUFFLE	COMPRESS_BYTE_COUNT	763415
+SHUFFLE	COPY_MAP_DATA	54813000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	859158
+SHUFFLE	COMPRESS_BYTE_COUNT	859162
+SHUFFLE	COPY_MAP_DATA	774275000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	851428
+SHUFFLE	COMPRESS_BYTE_COUNT	851432
+SHUFFLE	COPY_MAP_DATA	1341044000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	748019
+SHUFFLE	COMPRESS_BYTE_COUNT	748023
+SHUFFLE	COPY_MAP_DATA	145092000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	849646
+SHUFFLE	COMPRESS_BYTE_COUNT	849650
+SHUFFLE	COPY_MAP_DATA	289783000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	760529
+SHUFFLE	COMPRESS_BYTE_COUNT	760533
+SHUFFLE	COPY_MAP_DATA	96692000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	776708
+SHUFFLE	COMPRESS_BYTE_COUNT	776712
+SHUFFLE	COPY_MAP_DATA	15861000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	778033
+SHUFFLE	COMPRESS_BYTE_COUNT	778037
+SHUFFLE	COPY_MAP_DATA	47771000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	750211
+SHUFFLE	COMPRESS_BYTE_COUNT	750215
+SHUFFLE	COPY_MAP_DATA	26372000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	749581
+SHUFFLE	COMPRESS_BYTE_COUNT	749585
+SHUFFLE	COPY_MAP_DATA	19020000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	760783
+SHUFFLE	COMPRESS_BYTE_COUNT	760787
+SHUFFLE	COPY_MAP_DATA	17746000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	719846
+SHUFFLE	COMPRESS_BYTE_COUNT	719850
+SHUFFLE	COPY_MAP_DATA	79470000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	718957
+SHUFFLE	COMPRESS_BYTE_COUNT	718961
+SHUFFLE	COPY_MAP_DATA	20749000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	780152
+SHUFFLE	COMPRESS_BYTE_COUNT	780156
+SHUFFLE	COPY_MAP_DATA	87660000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	744741
+SHUFFLE	COMPRESS_BYTE_COUNT	744745
+SHUFFLE	COPY_MAP_DATA	16366000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1112538
+SHUFFLE	COMPRESS_BYTE_COUNT	1112542
+SHUFFLE	COPY_MAP_DATA	112619000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	739799
+SHUFFLE	COMPRESS_BYTE_COUNT	739803
+SHUFFLE	COPY_MAP_DATA	10290000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1123786
+SHUFFLE	COMPRESS_BYTE_COUNT	1123790
+SHUFFLE	COPY_MAP_DATA	63699000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1127555
+SHUFFLE	COMPRESS_BYTE_COUNT	1127559
+SHUFFLE	COPY_MAP_DATA	39348000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	980511
+SHUFFLE	COMPRESS_BYTE_COUNT	980515
+SHUFFLE	COPY_MAP_DATA	186140000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1130043
+SHUFFLE	COMPRESS_BYTE_COUNT	1130047
+SHUFFLE	COPY_MAP_DATA	151093000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1103626
+SHUFFLE	COMPRESS_BYTE_COUNT	1103630
+SHUFFLE	COPY_MAP_DATA	18376000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1156202
+SHUFFLE	COMPRESS_BYTE_COUNT	1156206
+SHUFFLE	COPY_MAP_DATA	26526000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	315132
+SHUFFLE	COMPRESS_BYTE_COUNT	315136
+SHUFFLE	COPY_MAP_DATA	33586000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	758149
+SHUFFLE	COMPRESS_BYTE_COUNT	758153
+SHUFFLE	COPY_MAP_DATA	46871000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	747306
+SHUFFLE	COMPRESS_BYTE_COUNT	747310
+SHUFFLE	COPY_MAP_DATA	36392000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	243624
+SHUFFLE	COMPRESS_BYTE_COUNT	243628
+SHUFFLE	COPY_MAP_DATA	19648000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	666462
+SHUFFLE	COMPRESS_BYTE_COUNT	666466
+SHUFFLE	COPY_MAP_DATA	69693000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	965074
+SHUFFLE	COMPRESS_BYTE_COUNT	965078
+SHUFFLE	COPY_MAP_DATA	67668000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	578631
+SHUFFLE	COMPRESS_BYTE_COUNT	578635
+SHUFFLE	COPY_MAP_DATA	16540000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	358460
+SHUFFLE	COMPRESS_BYTE_COUNT	358464
+SHUFFLE	COPY_MAP_DATA	13445000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	409925
+SHUFFLE	COMPRESS_BYTE_COUNT	409929
+SHUFFLE	COPY_MAP_DATA	11826000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	735105
+SHUFFLE	COMPRESS_BYTE_COUNT	735109
+SHUFFLE	COPY_MAP_DATA	397809000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	471909
+SHUFFLE	COMPRESS_BYTE_COUNT	471913
+SHUFFLE	COPY_MAP_DATA	17095000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	663883
+SHUFFLE	COMPRESS_BYTE_COUNT	663887
+SHUFFLE	COPY_MAP_DATA	183679000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	701200
+SHUFFLE	COMPRESS_BYTE_COUNT	701204
+SHUFFLE	COPY_MAP_DATA	32078000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	710362
+SHUFFLE	COMPRESS_BYTE_COUNT	710366
+SHUFFLE	COPY_MAP_DATA	14159000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	723060
+SHUFFLE	COMPRESS_BYTE_COUNT	723064
+SHUFFLE	COPY_MAP_DATA	360145000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	756260
+SHUFFLE	COMPRESS_BYTE_COUNT	756264
+SHUFFLE	COPY_MAP_DATA	45358000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	140027
+SHUFFLE	COMPRESS_BYTE_COUNT	140031
+SHUFFLE	COPY_MAP_DATA	6165000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	188339
+SHUFFLE	COMPRESS_BYTE_COUNT	188343
+SHUFFLE	COPY_MAP_DATA	7542000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	218134
+SHUFFLE	COMPRESS_BYTE_COUNT	218138
+SHUFFLE	COPY_MAP_DATA	12942000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	207084
+SHUFFLE	COMPRESS_BYTE_COUNT	207088
+SHUFFLE	COPY_MAP_DATA	7812000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	729699
+SHUFFLE	COMPRESS_BYTE_COUNT	729703
+SHUFFLE	COPY_MAP_DATA	19747000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	637841
+SHUFFLE	COMPRESS_BYTE_COUNT	637845
+SHUFFLE	COPY_MAP_DATA	17950000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	516882
+SHUFFLE	COMPRESS_BYTE_COUNT	516886
+SHUFFLE	COPY_MAP_DATA	58987000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	317853
+SHUFFLE	COMPRESS_BYTE_COUNT	317857
+SHUFFLE	COPY_MAP_DATA	6552000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	222107
+SHUFFLE	COMPRESS_BYTE_COUNT	222111
+SHUFFLE	COPY_MAP_DATA	79128000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	661302
+SHUFFLE	COMPRESS_BYTE_COUNT	661306
+SHUFFLE	COPY_MAP_DATA	56104000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	507100
+SHUFFLE	COMPRESS_BYTE_COUNT	507104
+SHUFFLE	COPY_MAP_DATA	12544000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	170236
+SHUFFLE	COMPRESS_BYTE_COUNT	170240
+SHUFFLE	COPY_MAP_DATA	9509000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	491103
+SHUFFLE	COMPRESS_BYTE_COUNT	491107
+SHUFFLE	COPY_MAP_DATA	513926000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	650302
+SHUFFLE	COMPRESS_BYTE_COUNT	650306
+SHUFFLE	COPY_MAP_DATA	213361000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	529685
+SHUFFLE	COMPRESS_BYTE_COUNT	529689
+SHUFFLE	COPY_MAP_DATA	779127000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	722517
+SHUFFLE	COMPRESS_BYTE_COUNT	722521
+SHUFFLE	COPY_MAP_DATA	42806000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	647278
+SHUFFLE	COMPRESS_BYTE_COUNT	647282
+SHUFFLE	COPY_MAP_DATA	113150000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	699513
+SHUFFLE	COMPRESS_BYTE_COUNT	699517
+SHUFFLE	COPY_MAP_DATA	60307000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	448329
+SHUFFLE	COMPRESS_BYTE_COUNT	448333
+SHUFFLE	COPY_MAP_DATA	98658000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	747658
+SHUFFLE	COMPRESS_BYTE_COUNT	747662
+SHUFFLE	COPY_MAP_DATA	91045000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	410446
+SHUFFLE	COMPRESS_BYTE_COUNT	410450
+SHUFFLE	COPY_MAP_DATA	7680000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	797960
+SHUFFLE	COMPRESS_BYTE_COUNT	797964
+SHUFFLE	COPY_MAP_DATA	14875000
+SHUFFLE	UNCOMPRESS	0
+SORT	MERGE_MAP_DATA	10126592000
+SORT	READ_WRITE	10045745000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	91186216
+REDUCE	SETUP	322000
+REDUCE	SETUP_MEM	91186216
+REDUCE	CLEANUP	38000
+REDUCE	CLEANUP_MEM	73636568
+REDUCE	TOTAL_RUN	18823615602
+REDUCE	READ	790282602
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	10329847000
+REDUCE	WRITE	3007890000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	11651398
+REDUCE	VALUE_BYTE_COUNT	1194701
+REDUCE	REDUCE_MEM	73638616
+REDUCE	WRITE	7362000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	518706923415
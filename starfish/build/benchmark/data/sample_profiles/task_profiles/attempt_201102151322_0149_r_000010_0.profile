@@ -0,0 +1,410 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1097593
+SHUFFLE	COMPRESS_BYTE_COUNT	1097597
+SHUFFLE	COPY_MAP_DATA	111105000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	791213
+SHUFFLE	COMPRESS_BYTE_COUNT	791217
+SHUFFLE	COPY_MAP_DATA	18498000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1020300
+SHUFFLE	COMPRESS_BYTE_COUNT	1020304
+SHUFFLE	COPY_MAP_DATA	52167000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1040440
+SHUFFLE	COMPRESS_BYTE_COUNT	1040444
+SHUFFLE	COPY_MAP_DATA	22456000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1007061
+SHUFFLE	COMPRESS_BYTE_COUNT	1007065
+SHUFFLE	COPY_MAP_DATA	43630000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1113231
+SHUFFLE	COMPRESS_BYTE_COUNT	1113235
+SHUFFLE	COPY_MAP_DATA	24699000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1069417
+SHUFFLE	COMPRESS_BYTE_COUNT	1069421
+SHUFFLE	COPY_MAP_DATA	119695000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1068309
+SHUFFLE	COMPRESS_BYTE_COUNT	1068313
+SHUFFLE	COPY_MAP_DATA	137192000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1153217
+SHUFFLE	COMPRESS_BYTE_COUNT	1153221
+SHUFFLE	COPY_MAP_DATA	4439088000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1098048
+SHUFFLE	COMPRESS_BYTE_COUNT	1098052
+SHUFFLE	COPY_MAP_DATA	524969000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1079026
+SHUFFLE	COMPRESS_BYTE_COUNT	1079030
+SHUFFLE	COPY_MAP_DATA	34720000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1121811
+SHUFFLE	COMPRESS_BYTE_COUNT	1121815
+SHUFFLE	COPY_MAP_DATA	1745424000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1124429
+SHUFFLE	COMPRESS_BYTE_COUNT	1124433
+SHUFFLE	COPY_MAP_DATA	47818000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1142226
+SHUFFLE	COMPRESS_BYTE_COUNT	1142230
+SHUFFLE	COPY_MAP_DATA	14912000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1118857
+SHUFFLE	COMPRESS_BYTE_COUNT	1118861
+SHUFFLE	COPY_MAP_DATA	42997000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1136590
+SHUFFLE	COMPRESS_BYTE_COUNT	1136594
+SHUFFLE	COPY_MAP_DATA	32126000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1024197
+SHUFFLE	COMPRESS_BYTE_COUNT	1024201
+SHUFFLE	COPY_MAP_DATA	73060000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	946376
+SHUFFLE	COMPRESS_BYTE_COUNT	946380
+SHUFFLE	COPY_MAP_DATA	344642000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1114715
+SHUFFLE	COMPRESS_BYTE_COUNT	1114719
+SHUFFLE	COPY_MAP_DATA	604345000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1236302
+SHUFFLE	COMPRESS_BYTE_COUNT	1236306
+SHUFFLE	COPY_MAP_DATA	295346000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1088711
+SHUFFLE	COMPRESS_BYTE_COUNT	1088715
+SHUFFLE	COPY_MAP_DATA	442101000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1120686
+SHUFFLE	COMPRESS_BYTE_COUNT	1120690
+SHUFFLE	COPY_MAP_DATA	63686000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1125025
+SHUFFLE	COMPRESS_BYTE_COUNT	1125029
+SHUFFLE	COPY_MAP_DATA	767156000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1112593
+SHUFFLE	COMPRESS_BYTE_COUNT	1112597
+SHUFFLE	COPY_MAP_DATA	351101000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1117057
+SHUFFLE	COMPRESS_BYTE_COUNT	1117061
+SHUFFLE	COPY_MAP_DATA	25028000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1015115
+SHUFFLE	COMPRESS_BYTE_COUNT	1015119
+SHUFFLE	COPY_MAP_DATA	10702000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1087840
+SHUFFLE	COMPRESS_BYTE_COUNT	1087844
+SHUFFLE	COPY_MAP_DATA	15560000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1088157
+SHUFFLE	COMPRESS_BYTE_COUNT	1088161
+SHUFFLE	COPY_MAP_DATA	92559000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1176421
+SHUFFLE	COMPRESS_BYTE_COUNT	1176425
+SHUFFLE	COPY_MAP_DATA	16303000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	997744
+SHUFFLE	COMPRESS_BYTE_COUNT	997748
+SHUFFLE	COPY_MAP_DATA	274014000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	798664
+SHUFFLE	COMPRESS_BYTE_COUNT	798668
+SHUFFLE	COPY_MAP_DATA	245856000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	795717
+SHUFFLE	COMPRESS_BYTE_COUNT	795721
+SHUFFLE	COPY_MAP_DATA	64266000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	751283
+SHUFFLE	COMPRESS_BYTE_COUNT	751287
+SHUFFLE	COPY_MAP_DATA	154454000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	786251
+SHUFFLE	COMPRESS_BYTE_COUNT	786255
+SHUFFLE	COPY_MAP_DATA	17574000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	784506
+SHUFFLE	COMPRESS_BYTE_COUNT	784510
+SHUFFLE	COPY_MAP_DATA	70897000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	749788
+SHUFFLE	COMPRESS_BYTE_COUNT	749792
+SHUFFLE	COPY_MAP_DATA	22635000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	759050
+SHUFFLE	COMPRESS_BYTE_COUNT	759054
+SHUFFLE	COPY_MAP_DATA	18398000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	851426
+SHUFFLE	COMPRESS_BYTE_COUNT	851430
+SHUFFLE	COPY_MAP_DATA	617993000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	853207
+SHUFFLE	COMPRESS_BYTE_COUNT	853211
+SHUFFLE	COPY_MAP_DATA	1410296000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	843362
+SHUFFLE	COMPRESS_BYTE_COUNT	843366
+SHUFFLE	COPY_MAP_DATA	61627000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	747501
+SHUFFLE	COMPRESS_BYTE_COUNT	747505
+SHUFFLE	COPY_MAP_DATA	18578000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	758827
+SHUFFLE	COMPRESS_BYTE_COUNT	758831
+SHUFFLE	COPY_MAP_DATA	65673000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	775352
+SHUFFLE	COMPRESS_BYTE_COUNT	775356
+SHUFFLE	COPY_MAP_DATA	247668000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	750192
+SHUFFLE	COMPRESS_BYTE_COUNT	750196
+SHUFFLE	COPY_MAP_DATA	251230000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	770998
+SHUFFLE	COMPRESS_BYTE_COUNT	771002
+SHUFFLE	COPY_MAP_DATA	117798000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	758645
+SHUFFLE	COMPRESS_BYTE_COUNT	758649
+SHUFFLE	COPY_MAP_DATA	66404000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	715056
+SHUFFLE	COMPRESS_BYTE_COUNT	715060
+SHUFFLE	COPY_MAP_DATA	17256000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	745067
+SHUFFLE	COMPRESS_BYTE_COUNT	745071
+SHUFFLE	COPY_MAP_DATA	20000000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	775020
+SHUFFLE	COMPRESS_BYTE_COUNT	775024
+SHUFFLE	COPY_MAP_DATA	71618000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	709073
+SHUFFLE	COMPRESS_BYTE_COUNT	709077
+SHUFFLE	COPY_MAP_DATA	70782000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	746517
+SHUFFLE	COMPRESS_BYTE_COUNT	746521
+SHUFFLE	COPY_MAP_DATA	1132042000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	965854
+SHUFFLE	COMPRESS_BYTE_COUNT	965858
+SHUFFLE	COPY_MAP_DATA	804916000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1126788
+SHUFFLE	COMPRESS_BYTE_COUNT	1126792
+SHUFFLE	COPY_MAP_DATA	47565000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1109125
+SHUFFLE	COMPRESS_BYTE_COUNT	1109129
+SHUFFLE	COPY_MAP_DATA	47362000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1112564
+SHUFFLE	COMPRESS_BYTE_COUNT	1112568
+SHUFFLE	COPY_MAP_DATA	122045000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	741442
+SHUFFLE	COMPRESS_BYTE_COUNT	741446
+SHUFFLE	COPY_MAP_DATA	32983000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1125927
+SHUFFLE	COMPRESS_BYTE_COUNT	1125931
+SHUFFLE	COPY_MAP_DATA	17772000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1149762
+SHUFFLE	COMPRESS_BYTE_COUNT	1149766
+SHUFFLE	COPY_MAP_DATA	63297000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1096353
+SHUFFLE	COMPRESS_BYTE_COUNT	1096357
+SHUFFLE	COPY_MAP_DATA	17164000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	306842
+SHUFFLE	COMPRESS_BYTE_COUNT	306846
+SHUFFLE	COPY_MAP_DATA	27843000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	744287
+SHUFFLE	COMPRESS_BYTE_COUNT	744291
+SHUFFLE	COPY_MAP_DATA	20166000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	241128
+SHUFFLE	COMPRESS_BYTE_COUNT	241132
+SHUFFLE	COPY_MAP_DATA	8016000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	758916
+SHUFFLE	COMPRESS_BYTE_COUNT	758920
+SHUFFLE	COPY_MAP_DATA	13217000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1458547
+SHUFFLE	COMPRESS_BYTE_COUNT	1458551
+SHUFFLE	COPY_MAP_DATA	53488000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	960210
+SHUFFLE	COMPRESS_BYTE_COUNT	960214
+SHUFFLE	COPY_MAP_DATA	23716000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	575840
+SHUFFLE	COMPRESS_BYTE_COUNT	575844
+SHUFFLE	COPY_MAP_DATA	14932000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	356123
+SHUFFLE	COMPRESS_BYTE_COUNT	356127
+SHUFFLE	COPY_MAP_DATA	322992000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	733664
+SHUFFLE	COMPRESS_BYTE_COUNT	733668
+SHUFFLE	COPY_MAP_DATA	23336000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	661240
+SHUFFLE	COMPRESS_BYTE_COUNT	661244
+SHUFFLE	COPY_MAP_DATA	15695000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	407869
+SHUFFLE	COMPRESS_BYTE_COUNT	407873
+SHUFFLE	COPY_MAP_DATA	4869000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	469647
+SHUFFLE	COMPRESS_BYTE_COUNT	469651
+SHUFFLE	COPY_MAP_DATA	104875000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	713981
+SHUFFLE	COMPRESS_BYTE_COUNT	713985
+SHUFFLE	COPY_MAP_DATA	46913000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	704895
+SHUFFLE	COMPRESS_BYTE_COUNT	704899
+SHUFFLE	COPY_MAP_DATA	23599000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	721422
+SHUFFLE	COMPRESS_BYTE_COUNT	721426
+SHUFFLE	COPY_MAP_DATA	465194000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	752629
+SHUFFLE	COMPRESS_BYTE_COUNT	752633
+SHUFFLE	COPY_MAP_DATA	42170000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	139206
+SHUFFLE	COMPRESS_BYTE_COUNT	139210
+SHUFFLE	COPY_MAP_DATA	7312000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	185618
+SHUFFLE	COMPRESS_BYTE_COUNT	185622
+SHUFFLE	COPY_MAP_DATA	7290000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	206846
+SHUFFLE	COMPRESS_BYTE_COUNT	206850
+SHUFFLE	COPY_MAP_DATA	7249000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	507502
+SHUFFLE	COMPRESS_BYTE_COUNT	507506
+SHUFFLE	COPY_MAP_DATA	71043000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	734327
+SHUFFLE	COMPRESS_BYTE_COUNT	734331
+SHUFFLE	COPY_MAP_DATA	46920000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	218639
+SHUFFLE	COMPRESS_BYTE_COUNT	218643
+SHUFFLE	COPY_MAP_DATA	30332000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	638279
+SHUFFLE	COMPRESS_BYTE_COUNT	638283
+SHUFFLE	COPY_MAP_DATA	28458000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	316926
+SHUFFLE	COMPRESS_BYTE_COUNT	316930
+SHUFFLE	COPY_MAP_DATA	6623000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	657629
+SHUFFLE	COMPRESS_BYTE_COUNT	657633
+SHUFFLE	COPY_MAP_DATA	87311000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	219729
+SHUFFLE	COMPRESS_BYTE_COUNT	219733
+SHUFFLE	COPY_MAP_DATA	8402000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	504037
+SHUFFLE	COMPRESS_BYTE_COUNT	504041
+SHUFFLE	COPY_MAP_DATA	10891000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	172720
+SHUFFLE	COMPRESS_BYTE_COUNT	172724
+SHUFFLE	COPY_MAP_DATA	4261000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	490149
+SHUFFLE	COMPRESS_BYTE_COUNT	490153
+SHUFFLE	COPY_MAP_DATA	10918000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	651595
+SHUFFLE	COMPRESS_BYTE_COUNT	651599
+SHUFFLE	COPY_MAP_DATA	17933000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	522674
+SHUFFLE	COMPRESS_BYTE_COUNT	522678
+SHUFFLE	COPY_MAP_DATA	149231000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	716637
+SHUFFLE	COMPRESS_BYTE_COUNT	716641
+SHUFFLE	COPY_MAP_DATA	74224000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	446175
+SHUFFLE	COMPRESS_BYTE_COUNT	446179
+SHUFFLE	COPY_MAP_DATA	82416000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	699770
+SHUFFLE	COMPRESS_BYTE_COUNT	699774
+SHUFFLE	COPY_MAP_DATA	153128000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	744331
+SHUFFLE	COMPRESS_BYTE_COUNT	744335
+SHUFFLE	COPY_MAP_DATA	36648000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	640025
+SHUFFLE	COMPRESS_BYTE_COUNT	640029
+SHUFFLE	COPY_MAP_DATA	12932000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	792154
+SHUFFLE	COMPRESS_BYTE_COUNT	792158
+SHUFFLE	COPY_MAP_DATA	47186000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	410135
+SHUFFLE	COMPRESS_BYTE_COUNT	410139
+SHUFFLE	COPY_MAP_DATA	39443000
+SHUFFLE	UNCOMPRESS	0
+SORT	MERGE_MAP_DATA	9882536000
+SORT	READ_WRITE	9813146000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	104646320
+REDUCE	SETUP	286000
+REDUCE	SETUP_MEM	104646320
+REDUCE	CLEANUP	37000
+REDUCE	CLEANUP_MEM	101520952
+REDUCE	TOTAL_RUN	18640292000
+REDUCE	READ	741553000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	10222110000
+REDUCE	WRITE	2845058000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	12457061
+REDUCE	VALUE_BYTE_COUNT	1194787
+REDUCE	REDUCE_MEM	101520952
+REDUCE	WRITE	11131000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	515911097217
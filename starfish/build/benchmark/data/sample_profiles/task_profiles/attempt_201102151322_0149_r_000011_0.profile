@@ -0,0 +1,410 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1040976
+SHUFFLE	COMPRESS_BYTE_COUNT	1040980
+SHUFFLE	COPY_MAP_DATA	112302000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1092611
+SHUFFLE	COMPRESS_BYTE_COUNT	1092615
+SHUFFLE	COPY_MAP_DATA	17832000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	790927
+SHUFFLE	COMPRESS_BYTE_COUNT	790931
+SHUFFLE	COPY_MAP_DATA	6048000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1022272
+SHUFFLE	COMPRESS_BYTE_COUNT	1022276
+SHUFFLE	COPY_MAP_DATA	106877000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1005495
+SHUFFLE	COMPRESS_BYTE_COUNT	1005499
+SHUFFLE	COPY_MAP_DATA	154162000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1066316
+SHUFFLE	COMPRESS_BYTE_COUNT	1066320
+SHUFFLE	COPY_MAP_DATA	132701000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1112567
+SHUFFLE	COMPRESS_BYTE_COUNT	1112571
+SHUFFLE	COPY_MAP_DATA	59582000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1063608
+SHUFFLE	COMPRESS_BYTE_COUNT	1063612
+SHUFFLE	COPY_MAP_DATA	173033000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1070764
+SHUFFLE	COMPRESS_BYTE_COUNT	1070768
+SHUFFLE	COPY_MAP_DATA	103298000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1102707
+SHUFFLE	COMPRESS_BYTE_COUNT	1102711
+SHUFFLE	COPY_MAP_DATA	63417000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1150533
+SHUFFLE	COMPRESS_BYTE_COUNT	1150537
+SHUFFLE	COPY_MAP_DATA	3131408000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1120164
+SHUFFLE	COMPRESS_BYTE_COUNT	1120168
+SHUFFLE	COPY_MAP_DATA	5161430000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1117216
+SHUFFLE	COMPRESS_BYTE_COUNT	1117220
+SHUFFLE	COPY_MAP_DATA	54018000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1135553
+SHUFFLE	COMPRESS_BYTE_COUNT	1135557
+SHUFFLE	COPY_MAP_DATA	1603640000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1015189
+SHUFFLE	COMPRESS_BYTE_COUNT	1015193
+SHUFFLE	COPY_MAP_DATA	46942000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1117911
+SHUFFLE	COMPRESS_BYTE_COUNT	1117915
+SHUFFLE	COPY_MAP_DATA	1604121000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1141838
+SHUFFLE	COMPRESS_BYTE_COUNT	1141842
+SHUFFLE	COPY_MAP_DATA	5332961000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	950714
+SHUFFLE	COMPRESS_BYTE_COUNT	950718
+SHUFFLE	COPY_MAP_DATA	18559000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1108710
+SHUFFLE	COMPRESS_BYTE_COUNT	1108714
+SHUFFLE	COPY_MAP_DATA	155175000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1233616
+SHUFFLE	COMPRESS_BYTE_COUNT	1233620
+SHUFFLE	COPY_MAP_DATA	575014000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1081077
+SHUFFLE	COMPRESS_BYTE_COUNT	1081081
+SHUFFLE	COPY_MAP_DATA	50077000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1119785
+SHUFFLE	COMPRESS_BYTE_COUNT	1119789
+SHUFFLE	COPY_MAP_DATA	223692000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1117791
+SHUFFLE	COMPRESS_BYTE_COUNT	1117795
+SHUFFLE	COPY_MAP_DATA	1396907000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1109167
+SHUFFLE	COMPRESS_BYTE_COUNT	1109171
+SHUFFLE	COPY_MAP_DATA	19225000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1129004
+SHUFFLE	COMPRESS_BYTE_COUNT	1129008
+SHUFFLE	COPY_MAP_DATA	72660000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1002582
+SHUFFLE	COMPRESS_BYTE_COUNT	1002586
+SHUFFLE	COPY_MAP_DATA	135345000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1088295
+SHUFFLE	COMPRESS_BYTE_COUNT	1088299
+SHUFFLE	COPY_MAP_DATA	19213000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1097564
+SHUFFLE	COMPRESS_BYTE_COUNT	1097568
+SHUFFLE	COPY_MAP_DATA	30894000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1181512
+SHUFFLE	COMPRESS_BYTE_COUNT	1181516
+SHUFFLE	COPY_MAP_DATA	38774000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	987914
+SHUFFLE	COMPRESS_BYTE_COUNT	987918
+SHUFFLE	COPY_MAP_DATA	119701000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	793468
+SHUFFLE	COMPRESS_BYTE_COUNT	793472
+SHUFFLE	COPY_MAP_DATA	8824000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	794157
+SHUFFLE	COMPRESS_BYTE_COUNT	794161
+SHUFFLE	COPY_MAP_DATA	17014000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	750529
+SHUFFLE	COMPRESS_BYTE_COUNT	750533
+SHUFFLE	COPY_MAP_DATA	16713000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	785122
+SHUFFLE	COMPRESS_BYTE_COUNT	785126
+SHUFFLE	COPY_MAP_DATA	94024000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	779046
+SHUFFLE	COMPRESS_BYTE_COUNT	779050
+SHUFFLE	COPY_MAP_DATA	356341000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	755259
+SHUFFLE	COMPRESS_BYTE_COUNT	755263
+SHUFFLE	COPY_MAP_DATA	300290000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	758183
+SHUFFLE	COMPRESS_BYTE_COUNT	758187
+SHUFFLE	COPY_MAP_DATA	198615000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	841313
+SHUFFLE	COMPRESS_BYTE_COUNT	841317
+SHUFFLE	COPY_MAP_DATA	447777000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	845875
+SHUFFLE	COMPRESS_BYTE_COUNT	845879
+SHUFFLE	COPY_MAP_DATA	189625000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	738836
+SHUFFLE	COMPRESS_BYTE_COUNT	738840
+SHUFFLE	COPY_MAP_DATA	157305000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	841891
+SHUFFLE	COMPRESS_BYTE_COUNT	841895
+SHUFFLE	COPY_MAP_DATA	17464000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	757027
+SHUFFLE	COMPRESS_BYTE_COUNT	757031
+SHUFFLE	COPY_MAP_DATA	311523000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	744904
+SHUFFLE	COMPRESS_BYTE_COUNT	744908
+SHUFFLE	COPY_MAP_DATA	162792000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	768408
+SHUFFLE	COMPRESS_BYTE_COUNT	768412
+SHUFFLE	COPY_MAP_DATA	109193000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	779292
+SHUFFLE	COMPRESS_BYTE_COUNT	779296
+SHUFFLE	COPY_MAP_DATA	859030000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	757361
+SHUFFLE	COMPRESS_BYTE_COUNT	757365
+SHUFFLE	COPY_MAP_DATA	179573000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	744591
+SHUFFLE	COMPRESS_BYTE_COUNT	744595
+SHUFFLE	COPY_MAP_DATA	61803000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	717295
+SHUFFLE	COMPRESS_BYTE_COUNT	717299
+SHUFFLE	COPY_MAP_DATA	13634000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	711072
+SHUFFLE	COMPRESS_BYTE_COUNT	711076
+SHUFFLE	COPY_MAP_DATA	14627000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	772031
+SHUFFLE	COMPRESS_BYTE_COUNT	772035
+SHUFFLE	COPY_MAP_DATA	14413000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	748015
+SHUFFLE	COMPRESS_BYTE_COUNT	748019
+SHUFFLE	COPY_MAP_DATA	15040000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	965340
+SHUFFLE	COMPRESS_BYTE_COUNT	965344
+SHUFFLE	COPY_MAP_DATA	16358000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1097796
+SHUFFLE	COMPRESS_BYTE_COUNT	1097800
+SHUFFLE	COPY_MAP_DATA	23427000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1119096
+SHUFFLE	COMPRESS_BYTE_COUNT	1119100
+SHUFFLE	COPY_MAP_DATA	19707000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1108408
+SHUFFLE	COMPRESS_BYTE_COUNT	1108412
+SHUFFLE	COPY_MAP_DATA	251607000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	740218
+SHUFFLE	COMPRESS_BYTE_COUNT	740222
+SHUFFLE	COPY_MAP_DATA	15579000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1125840
+SHUFFLE	COMPRESS_BYTE_COUNT	1125844
+SHUFFLE	COPY_MAP_DATA	136546000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1087605
+SHUFFLE	COMPRESS_BYTE_COUNT	1087609
+SHUFFLE	COPY_MAP_DATA	17139000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1151790
+SHUFFLE	COMPRESS_BYTE_COUNT	1151794
+SHUFFLE	COPY_MAP_DATA	20932000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	311065
+SHUFFLE	COMPRESS_BYTE_COUNT	311069
+SHUFFLE	COPY_MAP_DATA	332994000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	241121
+SHUFFLE	COMPRESS_BYTE_COUNT	241125
+SHUFFLE	COPY_MAP_DATA	206655000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	736972
+SHUFFLE	COMPRESS_BYTE_COUNT	736976
+SHUFFLE	COPY_MAP_DATA	67062000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	748436
+SHUFFLE	COMPRESS_BYTE_COUNT	748440
+SHUFFLE	COPY_MAP_DATA	8117000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	573744
+SHUFFLE	COMPRESS_BYTE_COUNT	573748
+SHUFFLE	COPY_MAP_DATA	7097963000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	660605
+SHUFFLE	COMPRESS_BYTE_COUNT	660609
+SHUFFLE	COPY_MAP_DATA	29275000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	956047
+SHUFFLE	COMPRESS_BYTE_COUNT	956051
+SHUFFLE	COPY_MAP_DATA	115026000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	351340
+SHUFFLE	COMPRESS_BYTE_COUNT	351344
+SHUFFLE	COPY_MAP_DATA	12306000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	407925
+SHUFFLE	COMPRESS_BYTE_COUNT	407929
+SHUFFLE	COPY_MAP_DATA	51066000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	667950
+SHUFFLE	COMPRESS_BYTE_COUNT	667954
+SHUFFLE	COPY_MAP_DATA	50740000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	733216
+SHUFFLE	COMPRESS_BYTE_COUNT	733220
+SHUFFLE	COPY_MAP_DATA	13194000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	468289
+SHUFFLE	COMPRESS_BYTE_COUNT	468293
+SHUFFLE	COPY_MAP_DATA	106626000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	701976
+SHUFFLE	COMPRESS_BYTE_COUNT	701980
+SHUFFLE	COPY_MAP_DATA	43249000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	721947
+SHUFFLE	COMPRESS_BYTE_COUNT	721951
+SHUFFLE	COPY_MAP_DATA	52174000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	714987
+SHUFFLE	COMPRESS_BYTE_COUNT	714991
+SHUFFLE	COPY_MAP_DATA	36413000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	748037
+SHUFFLE	COMPRESS_BYTE_COUNT	748041
+SHUFFLE	COPY_MAP_DATA	316337000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	139071
+SHUFFLE	COMPRESS_BYTE_COUNT	139075
+SHUFFLE	COPY_MAP_DATA	6583000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	185287
+SHUFFLE	COMPRESS_BYTE_COUNT	185291
+SHUFFLE	COPY_MAP_DATA	9251000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	729931
+SHUFFLE	COMPRESS_BYTE_COUNT	729935
+SHUFFLE	COPY_MAP_DATA	32169000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	216175
+SHUFFLE	COMPRESS_BYTE_COUNT	216179
+SHUFFLE	COPY_MAP_DATA	8820000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	632811
+SHUFFLE	COMPRESS_BYTE_COUNT	632815
+SHUFFLE	COPY_MAP_DATA	11280000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	513272
+SHUFFLE	COMPRESS_BYTE_COUNT	513276
+SHUFFLE	COPY_MAP_DATA	12197000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	203451
+SHUFFLE	COMPRESS_BYTE_COUNT	203455
+SHUFFLE	COPY_MAP_DATA	3395000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	315899
+SHUFFLE	COMPRESS_BYTE_COUNT	315903
+SHUFFLE	COPY_MAP_DATA	5713000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	655254
+SHUFFLE	COMPRESS_BYTE_COUNT	655258
+SHUFFLE	COPY_MAP_DATA	77596000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	219329
+SHUFFLE	COMPRESS_BYTE_COUNT	219333
+SHUFFLE	COPY_MAP_DATA	8650000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	502881
+SHUFFLE	COMPRESS_BYTE_COUNT	502885
+SHUFFLE	COPY_MAP_DATA	11231000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	168153
+SHUFFLE	COMPRESS_BYTE_COUNT	168157
+SHUFFLE	COPY_MAP_DATA	6800000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	485543
+SHUFFLE	COMPRESS_BYTE_COUNT	485547
+SHUFFLE	COPY_MAP_DATA	11364000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	653111
+SHUFFLE	COMPRESS_BYTE_COUNT	653115
+SHUFFLE	COPY_MAP_DATA	14567000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	528869
+SHUFFLE	COMPRESS_BYTE_COUNT	528873
+SHUFFLE	COPY_MAP_DATA	12680000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	722076
+SHUFFLE	COMPRESS_BYTE_COUNT	722080
+SHUFFLE	COPY_MAP_DATA	60279000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	445747
+SHUFFLE	COMPRESS_BYTE_COUNT	445751
+SHUFFLE	COPY_MAP_DATA	12352000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	697403
+SHUFFLE	COMPRESS_BYTE_COUNT	697407
+SHUFFLE	COPY_MAP_DATA	12595000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	640443
+SHUFFLE	COMPRESS_BYTE_COUNT	640447
+SHUFFLE	COPY_MAP_DATA	13075000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	746312
+SHUFFLE	COMPRESS_BYTE_COUNT	746316
+SHUFFLE	COPY_MAP_DATA	15111000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	406442
+SHUFFLE	COMPRESS_BYTE_COUNT	406446
+SHUFFLE	COPY_MAP_DATA	11925000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	794183
+SHUFFLE	COMPRESS_BYTE_COUNT	794187
+SHUFFLE	COPY_MAP_DATA	388783000
+SHUFFLE	UNCOMPRESS	0
+SORT	MERGE_MAP_DATA	9395793000
+SORT	READ_WRITE	9323303000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	121023104
+REDUCE	SETUP	314000
+REDUCE	SETUP_MEM	121023104
+REDUCE	CLEANUP	35000
+REDUCE	CLEANUP_MEM	118651976
+REDUCE	TOTAL_RUN	15299118000
+REDUCE	READ	806779000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	9093749000
+REDUCE	WRITE	2564652000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	11649150
+REDUCE	VALUE_BYTE_COUNT	1194028
+REDUCE	REDUCE_MEM	118654024
+REDUCE	WRITE	8310000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	515827849000
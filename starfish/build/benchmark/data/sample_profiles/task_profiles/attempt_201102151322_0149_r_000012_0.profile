@@ -0,0 +1,410 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1002646
+SHUFFLE	COMPRESS_BYTE_COUNT	1002650
+SHUFFLE	COPY_MAP_DATA	79624000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	791441
+SHUFFLE	COMPRESS_BYTE_COUNT	791445
+SHUFFLE	COPY_MAP_DATA	161822000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1035943
+SHUFFLE	COMPRESS_BYTE_COUNT	1035947
+SHUFFLE	COPY_MAP_DATA	40873000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1013866
+SHUFFLE	COMPRESS_BYTE_COUNT	1013870
+SHUFFLE	COPY_MAP_DATA	19950000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1095902
+SHUFFLE	COMPRESS_BYTE_COUNT	1095906
+SHUFFLE	COPY_MAP_DATA	72759000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1096755
+SHUFFLE	COMPRESS_BYTE_COUNT	1096759
+SHUFFLE	COPY_MAP_DATA	162013000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1075785
+SHUFFLE	COMPRESS_BYTE_COUNT	1075789
+SHUFFLE	COPY_MAP_DATA	8222000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1059535
+SHUFFLE	COMPRESS_BYTE_COUNT	1059539
+SHUFFLE	COPY_MAP_DATA	87431000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1069291
+SHUFFLE	COMPRESS_BYTE_COUNT	1069295
+SHUFFLE	COPY_MAP_DATA	68508000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1142423
+SHUFFLE	COMPRESS_BYTE_COUNT	1142427
+SHUFFLE	COPY_MAP_DATA	4801727000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1102571
+SHUFFLE	COMPRESS_BYTE_COUNT	1102575
+SHUFFLE	COPY_MAP_DATA	38802000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1113572
+SHUFFLE	COMPRESS_BYTE_COUNT	1113576
+SHUFFLE	COPY_MAP_DATA	2119941000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1115152
+SHUFFLE	COMPRESS_BYTE_COUNT	1115156
+SHUFFLE	COPY_MAP_DATA	495427000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1134053
+SHUFFLE	COMPRESS_BYTE_COUNT	1134057
+SHUFFLE	COPY_MAP_DATA	15038000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1113618
+SHUFFLE	COMPRESS_BYTE_COUNT	1113622
+SHUFFLE	COPY_MAP_DATA	1723350000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1013264
+SHUFFLE	COMPRESS_BYTE_COUNT	1013268
+SHUFFLE	COPY_MAP_DATA	72799000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1123069
+SHUFFLE	COMPRESS_BYTE_COUNT	1123073
+SHUFFLE	COPY_MAP_DATA	122654000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1108235
+SHUFFLE	COMPRESS_BYTE_COUNT	1108239
+SHUFFLE	COPY_MAP_DATA	142897000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	946959
+SHUFFLE	COMPRESS_BYTE_COUNT	946963
+SHUFFLE	COPY_MAP_DATA	16902000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1234171
+SHUFFLE	COMPRESS_BYTE_COUNT	1234175
+SHUFFLE	COPY_MAP_DATA	28662000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1083543
+SHUFFLE	COMPRESS_BYTE_COUNT	1083547
+SHUFFLE	COPY_MAP_DATA	122706000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1114322
+SHUFFLE	COMPRESS_BYTE_COUNT	1114326
+SHUFFLE	COPY_MAP_DATA	62865000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1114262
+SHUFFLE	COMPRESS_BYTE_COUNT	1114266
+SHUFFLE	COPY_MAP_DATA	44213000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1126349
+SHUFFLE	COMPRESS_BYTE_COUNT	1126353
+SHUFFLE	COPY_MAP_DATA	568130000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1108578
+SHUFFLE	COMPRESS_BYTE_COUNT	1108582
+SHUFFLE	COPY_MAP_DATA	180570000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1005421
+SHUFFLE	COMPRESS_BYTE_COUNT	1005425
+SHUFFLE	COPY_MAP_DATA	19264000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1080370
+SHUFFLE	COMPRESS_BYTE_COUNT	1080374
+SHUFFLE	COPY_MAP_DATA	49499000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1083605
+SHUFFLE	COMPRESS_BYTE_COUNT	1083609
+SHUFFLE	COPY_MAP_DATA	428477000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1166569
+SHUFFLE	COMPRESS_BYTE_COUNT	1166573
+SHUFFLE	COPY_MAP_DATA	21437000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	993200
+SHUFFLE	COMPRESS_BYTE_COUNT	993204
+SHUFFLE	COPY_MAP_DATA	18610000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	795104
+SHUFFLE	COMPRESS_BYTE_COUNT	795108
+SHUFFLE	COPY_MAP_DATA	1399780000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	794953
+SHUFFLE	COMPRESS_BYTE_COUNT	794957
+SHUFFLE	COPY_MAP_DATA	2963554000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	750945
+SHUFFLE	COMPRESS_BYTE_COUNT	750949
+SHUFFLE	COPY_MAP_DATA	39568000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	780829
+SHUFFLE	COMPRESS_BYTE_COUNT	780833
+SHUFFLE	COPY_MAP_DATA	93304000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	778070
+SHUFFLE	COMPRESS_BYTE_COUNT	778074
+SHUFFLE	COPY_MAP_DATA	16513000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	746751
+SHUFFLE	COMPRESS_BYTE_COUNT	746755
+SHUFFLE	COPY_MAP_DATA	41939000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	759501
+SHUFFLE	COMPRESS_BYTE_COUNT	759505
+SHUFFLE	COPY_MAP_DATA	8427000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	852308
+SHUFFLE	COMPRESS_BYTE_COUNT	852312
+SHUFFLE	COPY_MAP_DATA	324563000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	838914
+SHUFFLE	COMPRESS_BYTE_COUNT	838918
+SHUFFLE	COPY_MAP_DATA	8429000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	839072
+SHUFFLE	COMPRESS_BYTE_COUNT	839076
+SHUFFLE	COPY_MAP_DATA	3626795000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	742184
+SHUFFLE	COMPRESS_BYTE_COUNT	742188
+SHUFFLE	COPY_MAP_DATA	67494000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	754671
+SHUFFLE	COMPRESS_BYTE_COUNT	754675
+SHUFFLE	COPY_MAP_DATA	656404000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	771497
+SHUFFLE	COMPRESS_BYTE_COUNT	771501
+SHUFFLE	COPY_MAP_DATA	16704000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	743383
+SHUFFLE	COMPRESS_BYTE_COUNT	743387
+SHUFFLE	COPY_MAP_DATA	17578000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	770983
+SHUFFLE	COMPRESS_BYTE_COUNT	770987
+SHUFFLE	COPY_MAP_DATA	57049000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	739599
+SHUFFLE	COMPRESS_BYTE_COUNT	739603
+SHUFFLE	COPY_MAP_DATA	1245012000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	749263
+SHUFFLE	COMPRESS_BYTE_COUNT	749267
+SHUFFLE	COPY_MAP_DATA	14877000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	711245
+SHUFFLE	COMPRESS_BYTE_COUNT	711249
+SHUFFLE	COPY_MAP_DATA	48494000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	706780
+SHUFFLE	COMPRESS_BYTE_COUNT	706784
+SHUFFLE	COPY_MAP_DATA	16130000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	773844
+SHUFFLE	COMPRESS_BYTE_COUNT	773848
+SHUFFLE	COPY_MAP_DATA	17291000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	743076
+SHUFFLE	COMPRESS_BYTE_COUNT	743080
+SHUFFLE	COPY_MAP_DATA	15636000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1118633
+SHUFFLE	COMPRESS_BYTE_COUNT	1118637
+SHUFFLE	COPY_MAP_DATA	19400000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	737351
+SHUFFLE	COMPRESS_BYTE_COUNT	737355
+SHUFFLE	COPY_MAP_DATA	939410000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1104940
+SHUFFLE	COMPRESS_BYTE_COUNT	1104944
+SHUFFLE	COPY_MAP_DATA	22762000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1113719
+SHUFFLE	COMPRESS_BYTE_COUNT	1113723
+SHUFFLE	COPY_MAP_DATA	137233000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	964193
+SHUFFLE	COMPRESS_BYTE_COUNT	964197
+SHUFFLE	COPY_MAP_DATA	127557000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1121130
+SHUFFLE	COMPRESS_BYTE_COUNT	1121134
+SHUFFLE	COPY_MAP_DATA	145960000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1145710
+SHUFFLE	COMPRESS_BYTE_COUNT	1145714
+SHUFFLE	COPY_MAP_DATA	99297000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1089083
+SHUFFLE	COMPRESS_BYTE_COUNT	1089087
+SHUFFLE	COPY_MAP_DATA	1764533000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	307828
+SHUFFLE	COMPRESS_BYTE_COUNT	307832
+SHUFFLE	COPY_MAP_DATA	355433000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	241336
+SHUFFLE	COMPRESS_BYTE_COUNT	241340
+SHUFFLE	COPY_MAP_DATA	9327000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	739840
+SHUFFLE	COMPRESS_BYTE_COUNT	739844
+SHUFFLE	COPY_MAP_DATA	1371057000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	752206
+SHUFFLE	COMPRESS_BYTE_COUNT	752210
+SHUFFLE	COPY_MAP_DATA	16628000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	958601
+SHUFFLE	COMPRESS_BYTE_COUNT	958605
+SHUFFLE	COPY_MAP_DATA	21611000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	575107
+SHUFFLE	COMPRESS_BYTE_COUNT	575111
+SHUFFLE	COPY_MAP_DATA	36322000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	650196
+SHUFFLE	COMPRESS_BYTE_COUNT	650200
+SHUFFLE	COPY_MAP_DATA	12911000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	730863
+SHUFFLE	COMPRESS_BYTE_COUNT	730867
+SHUFFLE	COPY_MAP_DATA	61144000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	353009
+SHUFFLE	COMPRESS_BYTE_COUNT	353013
+SHUFFLE	COPY_MAP_DATA	54229000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	702287
+SHUFFLE	COMPRESS_BYTE_COUNT	702291
+SHUFFLE	COPY_MAP_DATA	56722000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	661366
+SHUFFLE	COMPRESS_BYTE_COUNT	661370
+SHUFFLE	COPY_MAP_DATA	13700000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	466602
+SHUFFLE	COMPRESS_BYTE_COUNT	466606
+SHUFFLE	COPY_MAP_DATA	238957000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	408862
+SHUFFLE	COMPRESS_BYTE_COUNT	408866
+SHUFFLE	COPY_MAP_DATA	21353000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	710157
+SHUFFLE	COMPRESS_BYTE_COUNT	710161
+SHUFFLE	COPY_MAP_DATA	6981000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	723412
+SHUFFLE	COMPRESS_BYTE_COUNT	723416
+SHUFFLE	COPY_MAP_DATA	52275000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	745704
+SHUFFLE	COMPRESS_BYTE_COUNT	745708
+SHUFFLE	COPY_MAP_DATA	30364000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	137828
+SHUFFLE	COMPRESS_BYTE_COUNT	137832
+SHUFFLE	COPY_MAP_DATA	6530000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	185196
+SHUFFLE	COMPRESS_BYTE_COUNT	185200
+SHUFFLE	COPY_MAP_DATA	7304000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	635471
+SHUFFLE	COMPRESS_BYTE_COUNT	635475
+SHUFFLE	COPY_MAP_DATA	13399000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	213881
+SHUFFLE	COMPRESS_BYTE_COUNT	213885
+SHUFFLE	COPY_MAP_DATA	8444000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	509602
+SHUFFLE	COMPRESS_BYTE_COUNT	509606
+SHUFFLE	COPY_MAP_DATA	12761000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	722304
+SHUFFLE	COMPRESS_BYTE_COUNT	722308
+SHUFFLE	COPY_MAP_DATA	20632000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	203229
+SHUFFLE	COMPRESS_BYTE_COUNT	203233
+SHUFFLE	COPY_MAP_DATA	7515000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	313719
+SHUFFLE	COMPRESS_BYTE_COUNT	313723
+SHUFFLE	COPY_MAP_DATA	8861000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	654333
+SHUFFLE	COMPRESS_BYTE_COUNT	654337
+SHUFFLE	COPY_MAP_DATA	25058000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	218030
+SHUFFLE	COMPRESS_BYTE_COUNT	218034
+SHUFFLE	COPY_MAP_DATA	10131000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	498766
+SHUFFLE	COMPRESS_BYTE_COUNT	498770
+SHUFFLE	COPY_MAP_DATA	22260000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	168024
+SHUFFLE	COMPRESS_BYTE_COUNT	168028
+SHUFFLE	COPY_MAP_DATA	8098000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	481899
+SHUFFLE	COMPRESS_BYTE_COUNT	481903
+SHUFFLE	COPY_MAP_DATA	32150000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	646121
+SHUFFLE	COMPRESS_BYTE_COUNT	646125
+SHUFFLE	COPY_MAP_DATA	14389000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	525094
+SHUFFLE	COMPRESS_BYTE_COUNT	525098
+SHUFFLE	COPY_MAP_DATA	18364000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	711203
+SHUFFLE	COMPRESS_BYTE_COUNT	711207
+SHUFFLE	COPY_MAP_DATA	35836000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	448386
+SHUFFLE	COMPRESS_BYTE_COUNT	448390
+SHUFFLE	COPY_MAP_DATA	11965000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	688634
+SHUFFLE	COMPRESS_BYTE_COUNT	688638
+SHUFFLE	COPY_MAP_DATA	22145000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	639457
+SHUFFLE	COMPRESS_BYTE_COUNT	639461
+SHUFFLE	COPY_MAP_DATA	39359000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	741462
+SHUFFLE	COMPRESS_BYTE_COUNT	741466
+SHUFFLE	COPY_MAP_DATA	26838000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	407255
+SHUFFLE	COMPRESS_BYTE_COUNT	407259
+SHUFFLE	COPY_MAP_DATA	13765000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	789461
+SHUFFLE	COMPRESS_BYTE_COUNT	789465
+SHUFFLE	COPY_MAP_DATA	37981000
+SHUFFLE	UNCOMPRESS	0
+SORT	MERGE_MAP_DATA	9635417000
+SORT	READ_WRITE	9564373000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	102054360
+REDUCE	SETUP	326000
+REDUCE	SETUP_MEM	102054360
+REDUCE	CLEANUP	31000
+REDUCE	CLEANUP_MEM	83866192
+REDUCE	TOTAL_RUN	16057725000
+REDUCE	READ	745158000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	9681110000
+REDUCE	WRITE	2765443000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	11677842
+REDUCE	VALUE_BYTE_COUNT	1196302
+REDUCE	REDUCE_MEM	83866192
+REDUCE	WRITE	39113000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	516450627820
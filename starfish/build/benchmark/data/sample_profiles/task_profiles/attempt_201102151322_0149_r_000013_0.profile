@@ -0,0 +1,410 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	795481
+SHUFFLE	COMPRESS_BYTE_COUNT	795485
+SHUFFLE	COPY_MAP_DATA	296849000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1102592
+SHUFFLE	COMPRESS_BYTE_COUNT	1102596
+SHUFFLE	COPY_MAP_DATA	1329738000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1023586
+SHUFFLE	COMPRESS_BYTE_COUNT	1023590
+SHUFFLE	COPY_MAP_DATA	39699000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1007579
+SHUFFLE	COMPRESS_BYTE_COUNT	1007583
+SHUFFLE	COPY_MAP_DATA	92067000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1043362
+SHUFFLE	COMPRESS_BYTE_COUNT	1043366
+SHUFFLE	COPY_MAP_DATA	557267000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1120820
+SHUFFLE	COMPRESS_BYTE_COUNT	1120824
+SHUFFLE	COPY_MAP_DATA	36838000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1078754
+SHUFFLE	COMPRESS_BYTE_COUNT	1078758
+SHUFFLE	COPY_MAP_DATA	151718000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1084088
+SHUFFLE	COMPRESS_BYTE_COUNT	1084092
+SHUFFLE	COPY_MAP_DATA	25882000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1074372
+SHUFFLE	COMPRESS_BYTE_COUNT	1074376
+SHUFFLE	COPY_MAP_DATA	74749000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1103409
+SHUFFLE	COMPRESS_BYTE_COUNT	1103413
+SHUFFLE	COPY_MAP_DATA	2109705000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1128992
+SHUFFLE	COMPRESS_BYTE_COUNT	1128996
+SHUFFLE	COPY_MAP_DATA	62874000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1150761
+SHUFFLE	COMPRESS_BYTE_COUNT	1150765
+SHUFFLE	COPY_MAP_DATA	48657000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1125386
+SHUFFLE	COMPRESS_BYTE_COUNT	1125390
+SHUFFLE	COPY_MAP_DATA	239275000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1153352
+SHUFFLE	COMPRESS_BYTE_COUNT	1153356
+SHUFFLE	COPY_MAP_DATA	39192000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1028330
+SHUFFLE	COMPRESS_BYTE_COUNT	1028334
+SHUFFLE	COPY_MAP_DATA	78626000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1138807
+SHUFFLE	COMPRESS_BYTE_COUNT	1138811
+SHUFFLE	COPY_MAP_DATA	25205000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1119653
+SHUFFLE	COMPRESS_BYTE_COUNT	1119657
+SHUFFLE	COPY_MAP_DATA	73718000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1117094
+SHUFFLE	COMPRESS_BYTE_COUNT	1117098
+SHUFFLE	COPY_MAP_DATA	439220000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	957627
+SHUFFLE	COMPRESS_BYTE_COUNT	957631
+SHUFFLE	COPY_MAP_DATA	79743000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1245347
+SHUFFLE	COMPRESS_BYTE_COUNT	1245351
+SHUFFLE	COPY_MAP_DATA	1894410000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1100787
+SHUFFLE	COMPRESS_BYTE_COUNT	1100791
+SHUFFLE	COPY_MAP_DATA	216326000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1122241
+SHUFFLE	COMPRESS_BYTE_COUNT	1122245
+SHUFFLE	COPY_MAP_DATA	270658000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1126670
+SHUFFLE	COMPRESS_BYTE_COUNT	1126674
+SHUFFLE	COPY_MAP_DATA	24152000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1017605
+SHUFFLE	COMPRESS_BYTE_COUNT	1017609
+SHUFFLE	COPY_MAP_DATA	277606000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1135075
+SHUFFLE	COMPRESS_BYTE_COUNT	1135079
+SHUFFLE	COPY_MAP_DATA	20929000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1117658
+SHUFFLE	COMPRESS_BYTE_COUNT	1117662
+SHUFFLE	COPY_MAP_DATA	23429000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1095088
+SHUFFLE	COMPRESS_BYTE_COUNT	1095092
+SHUFFLE	COPY_MAP_DATA	27088000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1089896
+SHUFFLE	COMPRESS_BYTE_COUNT	1089900
+SHUFFLE	COPY_MAP_DATA	89868000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1179519
+SHUFFLE	COMPRESS_BYTE_COUNT	1179523
+SHUFFLE	COPY_MAP_DATA	177718000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	994046
+SHUFFLE	COMPRESS_BYTE_COUNT	994050
+SHUFFLE	COPY_MAP_DATA	42046000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	798760
+SHUFFLE	COMPRESS_BYTE_COUNT	798764
+SHUFFLE	COPY_MAP_DATA	116031000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	799583
+SHUFFLE	COMPRESS_BYTE_COUNT	799587
+SHUFFLE	COPY_MAP_DATA	2760484000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	765810
+SHUFFLE	COMPRESS_BYTE_COUNT	765814
+SHUFFLE	COPY_MAP_DATA	162391000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	781898
+SHUFFLE	COMPRESS_BYTE_COUNT	781902
+SHUFFLE	COPY_MAP_DATA	63218000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	756561
+SHUFFLE	COMPRESS_BYTE_COUNT	756565
+SHUFFLE	COPY_MAP_DATA	811590000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	789499
+SHUFFLE	COMPRESS_BYTE_COUNT	789503
+SHUFFLE	COPY_MAP_DATA	275567000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	761659
+SHUFFLE	COMPRESS_BYTE_COUNT	761663
+SHUFFLE	COPY_MAP_DATA	1462460000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	861559
+SHUFFLE	COMPRESS_BYTE_COUNT	861563
+SHUFFLE	COPY_MAP_DATA	592147000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	852569
+SHUFFLE	COMPRESS_BYTE_COUNT	852573
+SHUFFLE	COPY_MAP_DATA	1026730000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	746896
+SHUFFLE	COMPRESS_BYTE_COUNT	746900
+SHUFFLE	COPY_MAP_DATA	389430000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	846805
+SHUFFLE	COMPRESS_BYTE_COUNT	846809
+SHUFFLE	COPY_MAP_DATA	34513000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	760195
+SHUFFLE	COMPRESS_BYTE_COUNT	760199
+SHUFFLE	COPY_MAP_DATA	209945000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	747827
+SHUFFLE	COMPRESS_BYTE_COUNT	747831
+SHUFFLE	COPY_MAP_DATA	27368000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	776576
+SHUFFLE	COMPRESS_BYTE_COUNT	776580
+SHUFFLE	COPY_MAP_DATA	46261000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	785346
+SHUFFLE	COMPRESS_BYTE_COUNT	785350
+SHUFFLE	COPY_MAP_DATA	22728000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	755720
+SHUFFLE	COMPRESS_BYTE_COUNT	755724
+SHUFFLE	COPY_MAP_DATA	8873000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	753283
+SHUFFLE	COMPRESS_BYTE_COUNT	753287
+SHUFFLE	COPY_MAP_DATA	21564000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	721273
+SHUFFLE	COMPRESS_BYTE_COUNT	721277
+SHUFFLE	COPY_MAP_DATA	15748000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	772139
+SHUFFLE	COMPRESS_BYTE_COUNT	772143
+SHUFFLE	COPY_MAP_DATA	52817000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	711378
+SHUFFLE	COMPRESS_BYTE_COUNT	711382
+SHUFFLE	COPY_MAP_DATA	13595000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	746441
+SHUFFLE	COMPRESS_BYTE_COUNT	746445
+SHUFFLE	COPY_MAP_DATA	37462000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	741485
+SHUFFLE	COMPRESS_BYTE_COUNT	741489
+SHUFFLE	COPY_MAP_DATA	557163000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1107050
+SHUFFLE	COMPRESS_BYTE_COUNT	1107054
+SHUFFLE	COPY_MAP_DATA	141017000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1126768
+SHUFFLE	COMPRESS_BYTE_COUNT	1126772
+SHUFFLE	COPY_MAP_DATA	96303000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1127112
+SHUFFLE	COMPRESS_BYTE_COUNT	1127116
+SHUFFLE	COPY_MAP_DATA	20219000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	978740
+SHUFFLE	COMPRESS_BYTE_COUNT	978744
+SHUFFLE	COPY_MAP_DATA	85091000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1126379
+SHUFFLE	COMPRESS_BYTE_COUNT	1126383
+SHUFFLE	COPY_MAP_DATA	53255000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1095271
+SHUFFLE	COMPRESS_BYTE_COUNT	1095275
+SHUFFLE	COPY_MAP_DATA	35210000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1162479
+SHUFFLE	COMPRESS_BYTE_COUNT	1162483
+SHUFFLE	COPY_MAP_DATA	376855000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	313546
+SHUFFLE	COMPRESS_BYTE_COUNT	313550
+SHUFFLE	COPY_MAP_DATA	10279000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	745795
+SHUFFLE	COMPRESS_BYTE_COUNT	745799
+SHUFFLE	COPY_MAP_DATA	16857000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	758979
+SHUFFLE	COMPRESS_BYTE_COUNT	758983
+SHUFFLE	COPY_MAP_DATA	14894000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	242659
+SHUFFLE	COMPRESS_BYTE_COUNT	242663
+SHUFFLE	COPY_MAP_DATA	9307000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	665855
+SHUFFLE	COMPRESS_BYTE_COUNT	665859
+SHUFFLE	COPY_MAP_DATA	22793000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	577325
+SHUFFLE	COMPRESS_BYTE_COUNT	577329
+SHUFFLE	COPY_MAP_DATA	14688000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	968854
+SHUFFLE	COMPRESS_BYTE_COUNT	968858
+SHUFFLE	COPY_MAP_DATA	71846000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	736626
+SHUFFLE	COMPRESS_BYTE_COUNT	736630
+SHUFFLE	COPY_MAP_DATA	288636000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	355497
+SHUFFLE	COMPRESS_BYTE_COUNT	355501
+SHUFFLE	COPY_MAP_DATA	16978000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	471837
+SHUFFLE	COMPRESS_BYTE_COUNT	471841
+SHUFFLE	COPY_MAP_DATA	1031126000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	670969
+SHUFFLE	COMPRESS_BYTE_COUNT	670973
+SHUFFLE	COPY_MAP_DATA	21080000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	408601
+SHUFFLE	COMPRESS_BYTE_COUNT	408605
+SHUFFLE	COPY_MAP_DATA	126302000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	710741
+SHUFFLE	COMPRESS_BYTE_COUNT	710745
+SHUFFLE	COPY_MAP_DATA	14526000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	713451
+SHUFFLE	COMPRESS_BYTE_COUNT	713455
+SHUFFLE	COPY_MAP_DATA	245996000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	723315
+SHUFFLE	COMPRESS_BYTE_COUNT	723319
+SHUFFLE	COPY_MAP_DATA	36378000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	140359
+SHUFFLE	COMPRESS_BYTE_COUNT	140363
+SHUFFLE	COPY_MAP_DATA	7939000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	758081
+SHUFFLE	COMPRESS_BYTE_COUNT	758085
+SHUFFLE	COPY_MAP_DATA	117163000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	218498
+SHUFFLE	COMPRESS_BYTE_COUNT	218502
+SHUFFLE	COPY_MAP_DATA	8554000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	637459
+SHUFFLE	COMPRESS_BYTE_COUNT	637463
+SHUFFLE	COPY_MAP_DATA	7323000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	518292
+SHUFFLE	COMPRESS_BYTE_COUNT	518296
+SHUFFLE	COPY_MAP_DATA	35191000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	729456
+SHUFFLE	COMPRESS_BYTE_COUNT	729460
+SHUFFLE	COPY_MAP_DATA	14667000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	187197
+SHUFFLE	COMPRESS_BYTE_COUNT	187201
+SHUFFLE	COPY_MAP_DATA	6743000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	316490
+SHUFFLE	COMPRESS_BYTE_COUNT	316494
+SHUFFLE	COPY_MAP_DATA	5699000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	208785
+SHUFFLE	COMPRESS_BYTE_COUNT	208789
+SHUFFLE	COPY_MAP_DATA	7006000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	660787
+SHUFFLE	COMPRESS_BYTE_COUNT	660791
+SHUFFLE	COPY_MAP_DATA	260322000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	225370
+SHUFFLE	COMPRESS_BYTE_COUNT	225374
+SHUFFLE	COPY_MAP_DATA	16414000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	505597
+SHUFFLE	COMPRESS_BYTE_COUNT	505601
+SHUFFLE	COPY_MAP_DATA	12107000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	170786
+SHUFFLE	COMPRESS_BYTE_COUNT	170790
+SHUFFLE	COPY_MAP_DATA	7190000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	485421
+SHUFFLE	COMPRESS_BYTE_COUNT	485425
+SHUFFLE	COPY_MAP_DATA	308361000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	653580
+SHUFFLE	COMPRESS_BYTE_COUNT	653584
+SHUFFLE	COPY_MAP_DATA	15540000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	528845
+SHUFFLE	COMPRESS_BYTE_COUNT	528849
+SHUFFLE	COPY_MAP_DATA	1269722000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	722740
+SHUFFLE	COMPRESS_BYTE_COUNT	722744
+SHUFFLE	COPY_MAP_DATA	19348000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	444770
+SHUFFLE	COMPRESS_BYTE_COUNT	444774
+SHUFFLE	COPY_MAP_DATA	12062000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	695755
+SHUFFLE	COMPRESS_BYTE_COUNT	695759
+SHUFFLE	COPY_MAP_DATA	11578000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	645483
+SHUFFLE	COMPRESS_BYTE_COUNT	645487
+SHUFFLE	COPY_MAP_DATA	28672000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	749386
+SHUFFLE	COMPRESS_BYTE_COUNT	749390
+SHUFFLE	COPY_MAP_DATA	48374000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	410628
+SHUFFLE	COMPRESS_BYTE_COUNT	410632
+SHUFFLE	COPY_MAP_DATA	15288000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	799971
+SHUFFLE	COMPRESS_BYTE_COUNT	799975
+SHUFFLE	COPY_MAP_DATA	19675000
+SHUFFLE	UNCOMPRESS	0
+SORT	MERGE_MAP_DATA	9523611000
+SORT	READ_WRITE	9461716000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	103446768
+REDUCE	SETUP	302000
+REDUCE	SETUP_MEM	103446768
+REDUCE	CLEANUP	42000
+REDUCE	CLEANUP_MEM	101347608
+REDUCE	TOTAL_RUN	15395478000
+REDUCE	READ	908729000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	9176620000
+REDUCE	WRITE	2552535000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	11687438
+REDUCE	VALUE_BYTE_COUNT	1197304
+REDUCE	REDUCE_MEM	101349656
+REDUCE	WRITE	24958000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	516211312000
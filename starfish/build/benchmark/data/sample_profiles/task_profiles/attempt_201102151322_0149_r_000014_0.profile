@@ -0,0 +1,410 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1096058
+SHUFFLE	COMPRESS_BYTE_COUNT	1096062
+SHUFFLE	COPY_MAP_DATA	68730000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1092436
+SHUFFLE	COMPRESS_BYTE_COUNT	1092440
+SHUFFLE	COPY_MAP_DATA	63649000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	784148
+SHUFFLE	COMPRESS_BYTE_COUNT	784152
+SHUFFLE	COPY_MAP_DATA	15559000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1004330
+SHUFFLE	COMPRESS_BYTE_COUNT	1004334
+SHUFFLE	COPY_MAP_DATA	41378000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1034153
+SHUFFLE	COMPRESS_BYTE_COUNT	1034157
+SHUFFLE	COPY_MAP_DATA	24657000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1076208
+SHUFFLE	COMPRESS_BYTE_COUNT	1076212
+SHUFFLE	COPY_MAP_DATA	28079000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1016999
+SHUFFLE	COMPRESS_BYTE_COUNT	1017003
+SHUFFLE	COPY_MAP_DATA	34389000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1109638
+SHUFFLE	COMPRESS_BYTE_COUNT	1109642
+SHUFFLE	COPY_MAP_DATA	19101000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1117187
+SHUFFLE	COMPRESS_BYTE_COUNT	1117191
+SHUFFLE	COPY_MAP_DATA	2203260000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1060503
+SHUFFLE	COMPRESS_BYTE_COUNT	1060507
+SHUFFLE	COPY_MAP_DATA	14255000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1065988
+SHUFFLE	COMPRESS_BYTE_COUNT	1065992
+SHUFFLE	COPY_MAP_DATA	249754000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1120162
+SHUFFLE	COMPRESS_BYTE_COUNT	1120166
+SHUFFLE	COPY_MAP_DATA	572697000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1144135
+SHUFFLE	COMPRESS_BYTE_COUNT	1144139
+SHUFFLE	COPY_MAP_DATA	75363000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1140644
+SHUFFLE	COMPRESS_BYTE_COUNT	1140648
+SHUFFLE	COPY_MAP_DATA	466163000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1109992
+SHUFFLE	COMPRESS_BYTE_COUNT	1109996
+SHUFFLE	COPY_MAP_DATA	113788000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1019169
+SHUFFLE	COMPRESS_BYTE_COUNT	1019173
+SHUFFLE	COPY_MAP_DATA	82908000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1127901
+SHUFFLE	COMPRESS_BYTE_COUNT	1127905
+SHUFFLE	COPY_MAP_DATA	224318000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1107511
+SHUFFLE	COMPRESS_BYTE_COUNT	1107515
+SHUFFLE	COPY_MAP_DATA	457096000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	947293
+SHUFFLE	COMPRESS_BYTE_COUNT	947297
+SHUFFLE	COPY_MAP_DATA	307357000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1234807
+SHUFFLE	COMPRESS_BYTE_COUNT	1234811
+SHUFFLE	COPY_MAP_DATA	87295000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1120970
+SHUFFLE	COMPRESS_BYTE_COUNT	1120974
+SHUFFLE	COPY_MAP_DATA	51564000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1083789
+SHUFFLE	COMPRESS_BYTE_COUNT	1083793
+SHUFFLE	COPY_MAP_DATA	20809000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1114192
+SHUFFLE	COMPRESS_BYTE_COUNT	1114196
+SHUFFLE	COPY_MAP_DATA	199229000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1121645
+SHUFFLE	COMPRESS_BYTE_COUNT	1121649
+SHUFFLE	COPY_MAP_DATA	19246000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1002414
+SHUFFLE	COMPRESS_BYTE_COUNT	1002418
+SHUFFLE	COPY_MAP_DATA	1188500000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1116896
+SHUFFLE	COMPRESS_BYTE_COUNT	1116900
+SHUFFLE	COPY_MAP_DATA	186325000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1085194
+SHUFFLE	COMPRESS_BYTE_COUNT	1085198
+SHUFFLE	COPY_MAP_DATA	11663000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1085060
+SHUFFLE	COMPRESS_BYTE_COUNT	1085064
+SHUFFLE	COPY_MAP_DATA	175107000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1172804
+SHUFFLE	COMPRESS_BYTE_COUNT	1172808
+SHUFFLE	COPY_MAP_DATA	94919000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	991006
+SHUFFLE	COMPRESS_BYTE_COUNT	991010
+SHUFFLE	COPY_MAP_DATA	175547000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	789795
+SHUFFLE	COMPRESS_BYTE_COUNT	789799
+SHUFFLE	COPY_MAP_DATA	264157000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	791064
+SHUFFLE	COMPRESS_BYTE_COUNT	791068
+SHUFFLE	COPY_MAP_DATA	388482000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	761214
+SHUFFLE	COMPRESS_BYTE_COUNT	761218
+SHUFFLE	COPY_MAP_DATA	133995000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	779008
+SHUFFLE	COMPRESS_BYTE_COUNT	779012
+SHUFFLE	COPY_MAP_DATA	123712000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	747470
+SHUFFLE	COMPRESS_BYTE_COUNT	747474
+SHUFFLE	COPY_MAP_DATA	220010000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	782558
+SHUFFLE	COMPRESS_BYTE_COUNT	782562
+SHUFFLE	COPY_MAP_DATA	120159000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	843853
+SHUFFLE	COMPRESS_BYTE_COUNT	843857
+SHUFFLE	COPY_MAP_DATA	27349000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	757174
+SHUFFLE	COMPRESS_BYTE_COUNT	757178
+SHUFFLE	COPY_MAP_DATA	780933000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	846751
+SHUFFLE	COMPRESS_BYTE_COUNT	846755
+SHUFFLE	COPY_MAP_DATA	345255000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	747602
+SHUFFLE	COMPRESS_BYTE_COUNT	747606
+SHUFFLE	COPY_MAP_DATA	458840000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	840646
+SHUFFLE	COMPRESS_BYTE_COUNT	840650
+SHUFFLE	COPY_MAP_DATA	92427000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	746401
+SHUFFLE	COMPRESS_BYTE_COUNT	746405
+SHUFFLE	COPY_MAP_DATA	17539000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	747322
+SHUFFLE	COMPRESS_BYTE_COUNT	747326
+SHUFFLE	COPY_MAP_DATA	1122082000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	773241
+SHUFFLE	COMPRESS_BYTE_COUNT	773245
+SHUFFLE	COPY_MAP_DATA	73994000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	770822
+SHUFFLE	COMPRESS_BYTE_COUNT	770826
+SHUFFLE	COPY_MAP_DATA	14787000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	751628
+SHUFFLE	COMPRESS_BYTE_COUNT	751632
+SHUFFLE	COPY_MAP_DATA	19815000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	743874
+SHUFFLE	COMPRESS_BYTE_COUNT	743878
+SHUFFLE	COPY_MAP_DATA	112171000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	715430
+SHUFFLE	COMPRESS_BYTE_COUNT	715434
+SHUFFLE	COPY_MAP_DATA	183153000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	766251
+SHUFFLE	COMPRESS_BYTE_COUNT	766255
+SHUFFLE	COPY_MAP_DATA	1811259000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	706829
+SHUFFLE	COMPRESS_BYTE_COUNT	706833
+SHUFFLE	COPY_MAP_DATA	399923000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	744099
+SHUFFLE	COMPRESS_BYTE_COUNT	744103
+SHUFFLE	COPY_MAP_DATA	28001000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	965936
+SHUFFLE	COMPRESS_BYTE_COUNT	965940
+SHUFFLE	COPY_MAP_DATA	10729000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1112236
+SHUFFLE	COMPRESS_BYTE_COUNT	1112240
+SHUFFLE	COPY_MAP_DATA	32731000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1105456
+SHUFFLE	COMPRESS_BYTE_COUNT	1105460
+SHUFFLE	COPY_MAP_DATA	17477000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1118371
+SHUFFLE	COMPRESS_BYTE_COUNT	1118375
+SHUFFLE	COPY_MAP_DATA	17694000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	741336
+SHUFFLE	COMPRESS_BYTE_COUNT	741340
+SHUFFLE	COPY_MAP_DATA	41228000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1119561
+SHUFFLE	COMPRESS_BYTE_COUNT	1119565
+SHUFFLE	COPY_MAP_DATA	16350000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1087348
+SHUFFLE	COMPRESS_BYTE_COUNT	1087352
+SHUFFLE	COPY_MAP_DATA	9974000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1149031
+SHUFFLE	COMPRESS_BYTE_COUNT	1149035
+SHUFFLE	COPY_MAP_DATA	33389000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	311218
+SHUFFLE	COMPRESS_BYTE_COUNT	311222
+SHUFFLE	COPY_MAP_DATA	75224000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	241814
+SHUFFLE	COMPRESS_BYTE_COUNT	241818
+SHUFFLE	COPY_MAP_DATA	318598000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	756347
+SHUFFLE	COMPRESS_BYTE_COUNT	756351
+SHUFFLE	COPY_MAP_DATA	3007654000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	732822
+SHUFFLE	COMPRESS_BYTE_COUNT	732826
+SHUFFLE	COPY_MAP_DATA	16396000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	658421
+SHUFFLE	COMPRESS_BYTE_COUNT	658425
+SHUFFLE	COPY_MAP_DATA	31595000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	962229
+SHUFFLE	COMPRESS_BYTE_COUNT	962233
+SHUFFLE	COPY_MAP_DATA	75702000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	577258
+SHUFFLE	COMPRESS_BYTE_COUNT	577262
+SHUFFLE	COPY_MAP_DATA	49312000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	351658
+SHUFFLE	COMPRESS_BYTE_COUNT	351662
+SHUFFLE	COPY_MAP_DATA	55413000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	725564
+SHUFFLE	COMPRESS_BYTE_COUNT	725568
+SHUFFLE	COPY_MAP_DATA	173633000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	469257
+SHUFFLE	COMPRESS_BYTE_COUNT	469261
+SHUFFLE	COPY_MAP_DATA	13153000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	406408
+SHUFFLE	COMPRESS_BYTE_COUNT	406412
+SHUFFLE	COPY_MAP_DATA	82726000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	666069
+SHUFFLE	COMPRESS_BYTE_COUNT	666073
+SHUFFLE	COPY_MAP_DATA	15884000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	700619
+SHUFFLE	COMPRESS_BYTE_COUNT	700623
+SHUFFLE	COPY_MAP_DATA	48843000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	705168
+SHUFFLE	COMPRESS_BYTE_COUNT	705172
+SHUFFLE	COPY_MAP_DATA	88852000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	717046
+SHUFFLE	COMPRESS_BYTE_COUNT	717050
+SHUFFLE	COPY_MAP_DATA	720361000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	137825
+SHUFFLE	COMPRESS_BYTE_COUNT	137829
+SHUFFLE	COPY_MAP_DATA	7173000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	750046
+SHUFFLE	COMPRESS_BYTE_COUNT	750050
+SHUFFLE	COPY_MAP_DATA	15683000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	724051
+SHUFFLE	COMPRESS_BYTE_COUNT	724055
+SHUFFLE	COPY_MAP_DATA	247404000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	181999
+SHUFFLE	COMPRESS_BYTE_COUNT	182003
+SHUFFLE	COPY_MAP_DATA	7132000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	635645
+SHUFFLE	COMPRESS_BYTE_COUNT	635649
+SHUFFLE	COPY_MAP_DATA	22462000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	217548
+SHUFFLE	COMPRESS_BYTE_COUNT	217552
+SHUFFLE	COPY_MAP_DATA	8523000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	511231
+SHUFFLE	COMPRESS_BYTE_COUNT	511235
+SHUFFLE	COPY_MAP_DATA	12041000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	206111
+SHUFFLE	COMPRESS_BYTE_COUNT	206115
+SHUFFLE	COPY_MAP_DATA	6465000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	319390
+SHUFFLE	COMPRESS_BYTE_COUNT	319394
+SHUFFLE	COPY_MAP_DATA	10191000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	655577
+SHUFFLE	COMPRESS_BYTE_COUNT	655581
+SHUFFLE	COPY_MAP_DATA	15533000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	216662
+SHUFFLE	COMPRESS_BYTE_COUNT	216666
+SHUFFLE	COPY_MAP_DATA	24296000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	169927
+SHUFFLE	COMPRESS_BYTE_COUNT	169931
+SHUFFLE	COPY_MAP_DATA	9729000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	501280
+SHUFFLE	COMPRESS_BYTE_COUNT	501284
+SHUFFLE	COPY_MAP_DATA	10465000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	484551
+SHUFFLE	COMPRESS_BYTE_COUNT	484555
+SHUFFLE	COPY_MAP_DATA	13539000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	642009
+SHUFFLE	COMPRESS_BYTE_COUNT	642013
+SHUFFLE	COPY_MAP_DATA	13289000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	528182
+SHUFFLE	COMPRESS_BYTE_COUNT	528186
+SHUFFLE	COPY_MAP_DATA	2975646000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	718943
+SHUFFLE	COMPRESS_BYTE_COUNT	718947
+SHUFFLE	COPY_MAP_DATA	63784000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	642406
+SHUFFLE	COMPRESS_BYTE_COUNT	642410
+SHUFFLE	COPY_MAP_DATA	32981000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	739945
+SHUFFLE	COMPRESS_BYTE_COUNT	739949
+SHUFFLE	COPY_MAP_DATA	22516000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	688645
+SHUFFLE	COMPRESS_BYTE_COUNT	688649
+SHUFFLE	COPY_MAP_DATA	12037000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	443920
+SHUFFLE	COMPRESS_BYTE_COUNT	443924
+SHUFFLE	COPY_MAP_DATA	15405000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	406954
+SHUFFLE	COMPRESS_BYTE_COUNT	406958
+SHUFFLE	COPY_MAP_DATA	11260000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	788141
+SHUFFLE	COMPRESS_BYTE_COUNT	788145
+SHUFFLE	COPY_MAP_DATA	36839000
+SHUFFLE	UNCOMPRESS	0
+SORT	MERGE_MAP_DATA	9046705000
+SORT	READ_WRITE	8940173000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	108561960
+REDUCE	SETUP	302000
+REDUCE	SETUP_MEM	108561960
+REDUCE	CLEANUP	38000
+REDUCE	CLEANUP_MEM	103426528
+REDUCE	TOTAL_RUN	14572259000
+REDUCE	READ	750840000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	8590944000
+REDUCE	WRITE	2358471000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	11645957
+REDUCE	VALUE_BYTE_COUNT	1193877
+REDUCE	REDUCE_MEM	103428576
+REDUCE	WRITE	112742000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	504105045000
@@ -0,0 +1,410 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	790393
+SHUFFLE	COMPRESS_BYTE_COUNT	790397
+SHUFFLE	COPY_MAP_DATA	742763000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1089371
+SHUFFLE	COMPRESS_BYTE_COUNT	1089375
+SHUFFLE	COPY_MAP_DATA	137779000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1002537
+SHUFFLE	COMPRESS_BYTE_COUNT	1002541
+SHUFFLE	COPY_MAP_DATA	23368000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1000774
+SHUFFLE	COMPRESS_BYTE_COUNT	1000778
+SHUFFLE	COPY_MAP_DATA	24843000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1032958
+SHUFFLE	COMPRESS_BYTE_COUNT	1032962
+SHUFFLE	COPY_MAP_DATA	52529000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1104586
+SHUFFLE	COMPRESS_BYTE_COUNT	1104590
+SHUFFLE	COPY_MAP_DATA	29142000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1068425
+SHUFFLE	COMPRESS_BYTE_COUNT	1068429
+SHUFFLE	COPY_MAP_DATA	48512000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1093742
+SHUFFLE	COMPRESS_BYTE_COUNT	1093746
+SHUFFLE	COPY_MAP_DATA	27669000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1145464
+SHUFFLE	COMPRESS_BYTE_COUNT	1145468
+SHUFFLE	COPY_MAP_DATA	5054655000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1060268
+SHUFFLE	COMPRESS_BYTE_COUNT	1060272
+SHUFFLE	COPY_MAP_DATA	37501000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1073414
+SHUFFLE	COMPRESS_BYTE_COUNT	1073418
+SHUFFLE	COPY_MAP_DATA	2058101000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1110605
+SHUFFLE	COMPRESS_BYTE_COUNT	1110609
+SHUFFLE	COPY_MAP_DATA	117336000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1112318
+SHUFFLE	COMPRESS_BYTE_COUNT	1112322
+SHUFFLE	COPY_MAP_DATA	1646423000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1144213
+SHUFFLE	COMPRESS_BYTE_COUNT	1144217
+SHUFFLE	COPY_MAP_DATA	67288000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1115062
+SHUFFLE	COMPRESS_BYTE_COUNT	1115066
+SHUFFLE	COPY_MAP_DATA	72275000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1128085
+SHUFFLE	COMPRESS_BYTE_COUNT	1128089
+SHUFFLE	COPY_MAP_DATA	34232000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1017333
+SHUFFLE	COMPRESS_BYTE_COUNT	1017337
+SHUFFLE	COPY_MAP_DATA	4336661000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1106224
+SHUFFLE	COMPRESS_BYTE_COUNT	1106228
+SHUFFLE	COPY_MAP_DATA	162330000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	939775
+SHUFFLE	COMPRESS_BYTE_COUNT	939779
+SHUFFLE	COPY_MAP_DATA	1541901000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1237133
+SHUFFLE	COMPRESS_BYTE_COUNT	1237137
+SHUFFLE	COPY_MAP_DATA	19199000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1084543
+SHUFFLE	COMPRESS_BYTE_COUNT	1084547
+SHUFFLE	COPY_MAP_DATA	247486000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1110464
+SHUFFLE	COMPRESS_BYTE_COUNT	1110468
+SHUFFLE	COPY_MAP_DATA	19224000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1109372
+SHUFFLE	COMPRESS_BYTE_COUNT	1109376
+SHUFFLE	COPY_MAP_DATA	292522000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1117392
+SHUFFLE	COMPRESS_BYTE_COUNT	1117396
+SHUFFLE	COPY_MAP_DATA	49586000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1104424
+SHUFFLE	COMPRESS_BYTE_COUNT	1104428
+SHUFFLE	COPY_MAP_DATA	2873289000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1002048
+SHUFFLE	COMPRESS_BYTE_COUNT	1002052
+SHUFFLE	COPY_MAP_DATA	30052000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1080011
+SHUFFLE	COMPRESS_BYTE_COUNT	1080015
+SHUFFLE	COPY_MAP_DATA	25573000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1086733
+SHUFFLE	COMPRESS_BYTE_COUNT	1086737
+SHUFFLE	COPY_MAP_DATA	25443000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1174303
+SHUFFLE	COMPRESS_BYTE_COUNT	1174307
+SHUFFLE	COPY_MAP_DATA	86392000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	998207
+SHUFFLE	COMPRESS_BYTE_COUNT	998211
+SHUFFLE	COPY_MAP_DATA	79121000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	793807
+SHUFFLE	COMPRESS_BYTE_COUNT	793811
+SHUFFLE	COPY_MAP_DATA	747536000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	794667
+SHUFFLE	COMPRESS_BYTE_COUNT	794671
+SHUFFLE	COPY_MAP_DATA	470382000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	752674
+SHUFFLE	COMPRESS_BYTE_COUNT	752678
+SHUFFLE	COPY_MAP_DATA	307835000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	779756
+SHUFFLE	COMPRESS_BYTE_COUNT	779760
+SHUFFLE	COPY_MAP_DATA	222867000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	751030
+SHUFFLE	COMPRESS_BYTE_COUNT	751034
+SHUFFLE	COPY_MAP_DATA	2038709000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	772536
+SHUFFLE	COMPRESS_BYTE_COUNT	772540
+SHUFFLE	COPY_MAP_DATA	130507000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	751186
+SHUFFLE	COMPRESS_BYTE_COUNT	751190
+SHUFFLE	COPY_MAP_DATA	18045000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	844245
+SHUFFLE	COMPRESS_BYTE_COUNT	844249
+SHUFFLE	COPY_MAP_DATA	25863000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	845395
+SHUFFLE	COMPRESS_BYTE_COUNT	845399
+SHUFFLE	COPY_MAP_DATA	255552000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	837769
+SHUFFLE	COMPRESS_BYTE_COUNT	837773
+SHUFFLE	COPY_MAP_DATA	65557000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	738307
+SHUFFLE	COMPRESS_BYTE_COUNT	738311
+SHUFFLE	COPY_MAP_DATA	42120000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	757410
+SHUFFLE	COMPRESS_BYTE_COUNT	757414
+SHUFFLE	COPY_MAP_DATA	236757000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	743885
+SHUFFLE	COMPRESS_BYTE_COUNT	743889
+SHUFFLE	COPY_MAP_DATA	26843000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	768972
+SHUFFLE	COMPRESS_BYTE_COUNT	768976
+SHUFFLE	COPY_MAP_DATA	15770000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	751611
+SHUFFLE	COMPRESS_BYTE_COUNT	751615
+SHUFFLE	COPY_MAP_DATA	182249000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	771285
+SHUFFLE	COMPRESS_BYTE_COUNT	771289
+SHUFFLE	COPY_MAP_DATA	194516000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	713702
+SHUFFLE	COMPRESS_BYTE_COUNT	713706
+SHUFFLE	COPY_MAP_DATA	17375000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	744187
+SHUFFLE	COMPRESS_BYTE_COUNT	744191
+SHUFFLE	COPY_MAP_DATA	15102000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	770157
+SHUFFLE	COMPRESS_BYTE_COUNT	770161
+SHUFFLE	COPY_MAP_DATA	15045000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	708903
+SHUFFLE	COMPRESS_BYTE_COUNT	708907
+SHUFFLE	COPY_MAP_DATA	14848000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	742199
+SHUFFLE	COMPRESS_BYTE_COUNT	742203
+SHUFFLE	COPY_MAP_DATA	16776000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1115117
+SHUFFLE	COMPRESS_BYTE_COUNT	1115121
+SHUFFLE	COPY_MAP_DATA	6570850000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	968280
+SHUFFLE	COMPRESS_BYTE_COUNT	968284
+SHUFFLE	COPY_MAP_DATA	2607329000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1114777
+SHUFFLE	COMPRESS_BYTE_COUNT	1114781
+SHUFFLE	COPY_MAP_DATA	59206000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1101355
+SHUFFLE	COMPRESS_BYTE_COUNT	1101359
+SHUFFLE	COPY_MAP_DATA	89662000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	739093
+SHUFFLE	COMPRESS_BYTE_COUNT	739097
+SHUFFLE	COPY_MAP_DATA	169236000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1146146
+SHUFFLE	COMPRESS_BYTE_COUNT	1146150
+SHUFFLE	COPY_MAP_DATA	94668000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1087486
+SHUFFLE	COMPRESS_BYTE_COUNT	1087490
+SHUFFLE	COPY_MAP_DATA	17880000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1120492
+SHUFFLE	COMPRESS_BYTE_COUNT	1120496
+SHUFFLE	COPY_MAP_DATA	16916000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	311797
+SHUFFLE	COMPRESS_BYTE_COUNT	311801
+SHUFFLE	COPY_MAP_DATA	2407718000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	756211
+SHUFFLE	COMPRESS_BYTE_COUNT	756215
+SHUFFLE	COPY_MAP_DATA	3152863000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	736721
+SHUFFLE	COMPRESS_BYTE_COUNT	736725
+SHUFFLE	COPY_MAP_DATA	16161000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	237473
+SHUFFLE	COMPRESS_BYTE_COUNT	237477
+SHUFFLE	COPY_MAP_DATA	34174000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	662521
+SHUFFLE	COMPRESS_BYTE_COUNT	662525
+SHUFFLE	COPY_MAP_DATA	7359000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	958301
+SHUFFLE	COMPRESS_BYTE_COUNT	958305
+SHUFFLE	COPY_MAP_DATA	22282000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	573487
+SHUFFLE	COMPRESS_BYTE_COUNT	573491
+SHUFFLE	COPY_MAP_DATA	13522000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	734661
+SHUFFLE	COMPRESS_BYTE_COUNT	734665
+SHUFFLE	COPY_MAP_DATA	79429000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	349983
+SHUFFLE	COMPRESS_BYTE_COUNT	349987
+SHUFFLE	COPY_MAP_DATA	55935000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	406164
+SHUFFLE	COMPRESS_BYTE_COUNT	406168
+SHUFFLE	COPY_MAP_DATA	102260000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	460416
+SHUFFLE	COMPRESS_BYTE_COUNT	460420
+SHUFFLE	COPY_MAP_DATA	73709000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	659168
+SHUFFLE	COMPRESS_BYTE_COUNT	659172
+SHUFFLE	COPY_MAP_DATA	15461000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	696813
+SHUFFLE	COMPRESS_BYTE_COUNT	696817
+SHUFFLE	COPY_MAP_DATA	109864000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	707454
+SHUFFLE	COMPRESS_BYTE_COUNT	707458
+SHUFFLE	COPY_MAP_DATA	34087000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	715113
+SHUFFLE	COMPRESS_BYTE_COUNT	715117
+SHUFFLE	COPY_MAP_DATA	71993000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	746370
+SHUFFLE	COMPRESS_BYTE_COUNT	746374
+SHUFFLE	COPY_MAP_DATA	7519000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	137847
+SHUFFLE	COMPRESS_BYTE_COUNT	137851
+SHUFFLE	COPY_MAP_DATA	102605000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	727434
+SHUFFLE	COMPRESS_BYTE_COUNT	727438
+SHUFFLE	COPY_MAP_DATA	13653000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	512161
+SHUFFLE	COMPRESS_BYTE_COUNT	512165
+SHUFFLE	COPY_MAP_DATA	12496000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	215207
+SHUFFLE	COMPRESS_BYTE_COUNT	215211
+SHUFFLE	COPY_MAP_DATA	6988000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	634623
+SHUFFLE	COMPRESS_BYTE_COUNT	634627
+SHUFFLE	COPY_MAP_DATA	12063000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	183572
+SHUFFLE	COMPRESS_BYTE_COUNT	183576
+SHUFFLE	COPY_MAP_DATA	3041000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	205737
+SHUFFLE	COMPRESS_BYTE_COUNT	205741
+SHUFFLE	COPY_MAP_DATA	7868000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	317949
+SHUFFLE	COMPRESS_BYTE_COUNT	317953
+SHUFFLE	COPY_MAP_DATA	7747000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	652901
+SHUFFLE	COMPRESS_BYTE_COUNT	652905
+SHUFFLE	COPY_MAP_DATA	104072000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	496173
+SHUFFLE	COMPRESS_BYTE_COUNT	496177
+SHUFFLE	COPY_MAP_DATA	29630000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	169257
+SHUFFLE	COMPRESS_BYTE_COUNT	169261
+SHUFFLE	COPY_MAP_DATA	8076000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	217743
+SHUFFLE	COMPRESS_BYTE_COUNT	217747
+SHUFFLE	COPY_MAP_DATA	8001000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	484330
+SHUFFLE	COMPRESS_BYTE_COUNT	484334
+SHUFFLE	COPY_MAP_DATA	36328000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	649433
+SHUFFLE	COMPRESS_BYTE_COUNT	649437
+SHUFFLE	COPY_MAP_DATA	41784000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	522290
+SHUFFLE	COMPRESS_BYTE_COUNT	522294
+SHUFFLE	COPY_MAP_DATA	128718000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	713779
+SHUFFLE	COMPRESS_BYTE_COUNT	713783
+SHUFFLE	COPY_MAP_DATA	27482000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	440194
+SHUFFLE	COMPRESS_BYTE_COUNT	440198
+SHUFFLE	COPY_MAP_DATA	304335000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	691143
+SHUFFLE	COMPRESS_BYTE_COUNT	691147
+SHUFFLE	COPY_MAP_DATA	18995000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	742834
+SHUFFLE	COMPRESS_BYTE_COUNT	742838
+SHUFFLE	COPY_MAP_DATA	34325000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	642816
+SHUFFLE	COMPRESS_BYTE_COUNT	642820
+SHUFFLE	COPY_MAP_DATA	414850000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	404726
+SHUFFLE	COMPRESS_BYTE_COUNT	404730
+SHUFFLE	COPY_MAP_DATA	12702000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	788438
+SHUFFLE	COMPRESS_BYTE_COUNT	788442
+SHUFFLE	COPY_MAP_DATA	34768000
+SHUFFLE	UNCOMPRESS	0
+SORT	MERGE_MAP_DATA	9357188000
+SORT	READ_WRITE	9275425000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	82792912
+REDUCE	SETUP	337000
+REDUCE	SETUP_MEM	82792912
+REDUCE	CLEANUP	37000
+REDUCE	CLEANUP_MEM	83997608
+REDUCE	TOTAL_RUN	16779743000
+REDUCE	READ	950368000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	10004985000
+REDUCE	WRITE	2818277000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	11648103
+REDUCE	VALUE_BYTE_COUNT	1193991
+REDUCE	REDUCE_MEM	83997608
+REDUCE	WRITE	21542000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	514655306976
@@ -0,0 +1,410 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1031815
+SHUFFLE	COMPRESS_BYTE_COUNT	1031819
+SHUFFLE	COPY_MAP_DATA	1217523000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	792790
+SHUFFLE	COMPRESS_BYTE_COUNT	792794
+SHUFFLE	COPY_MAP_DATA	83517000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1004648
+SHUFFLE	COMPRESS_BYTE_COUNT	1004652
+SHUFFLE	COPY_MAP_DATA	11434000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1093395
+SHUFFLE	COMPRESS_BYTE_COUNT	1093399
+SHUFFLE	COPY_MAP_DATA	89275000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1020448
+SHUFFLE	COMPRESS_BYTE_COUNT	1020452
+SHUFFLE	COPY_MAP_DATA	5412377000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1067114
+SHUFFLE	COMPRESS_BYTE_COUNT	1067118
+SHUFFLE	COPY_MAP_DATA	34914000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1058214
+SHUFFLE	COMPRESS_BYTE_COUNT	1058218
+SHUFFLE	COPY_MAP_DATA	25558000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1107012
+SHUFFLE	COMPRESS_BYTE_COUNT	1107016
+SHUFFLE	COPY_MAP_DATA	35097000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1071898
+SHUFFLE	COMPRESS_BYTE_COUNT	1071902
+SHUFFLE	COPY_MAP_DATA	77902000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1095675
+SHUFFLE	COMPRESS_BYTE_COUNT	1095679
+SHUFFLE	COPY_MAP_DATA	68425000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1144082
+SHUFFLE	COMPRESS_BYTE_COUNT	1144086
+SHUFFLE	COPY_MAP_DATA	35608000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1112500
+SHUFFLE	COMPRESS_BYTE_COUNT	1112504
+SHUFFLE	COPY_MAP_DATA	1993589000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1114523
+SHUFFLE	COMPRESS_BYTE_COUNT	1114527
+SHUFFLE	COPY_MAP_DATA	18235000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1134808
+SHUFFLE	COMPRESS_BYTE_COUNT	1134812
+SHUFFLE	COPY_MAP_DATA	175413000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1105347
+SHUFFLE	COMPRESS_BYTE_COUNT	1105351
+SHUFFLE	COPY_MAP_DATA	477438000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1123502
+SHUFFLE	COMPRESS_BYTE_COUNT	1123506
+SHUFFLE	COPY_MAP_DATA	62405000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1012681
+SHUFFLE	COMPRESS_BYTE_COUNT	1012685
+SHUFFLE	COPY_MAP_DATA	65202000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1108623
+SHUFFLE	COMPRESS_BYTE_COUNT	1108627
+SHUFFLE	COPY_MAP_DATA	2767516000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	935291
+SHUFFLE	COMPRESS_BYTE_COUNT	935295
+SHUFFLE	COPY_MAP_DATA	667774000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1235500
+SHUFFLE	COMPRESS_BYTE_COUNT	1235504
+SHUFFLE	COPY_MAP_DATA	80155000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1080206
+SHUFFLE	COMPRESS_BYTE_COUNT	1080210
+SHUFFLE	COPY_MAP_DATA	20471000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1113134
+SHUFFLE	COMPRESS_BYTE_COUNT	1113138
+SHUFFLE	COPY_MAP_DATA	94325000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1113001
+SHUFFLE	COMPRESS_BYTE_COUNT	1113005
+SHUFFLE	COPY_MAP_DATA	163431000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1105895
+SHUFFLE	COMPRESS_BYTE_COUNT	1105899
+SHUFFLE	COPY_MAP_DATA	94097000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1123390
+SHUFFLE	COMPRESS_BYTE_COUNT	1123394
+SHUFFLE	COPY_MAP_DATA	88862000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1010163
+SHUFFLE	COMPRESS_BYTE_COUNT	1010167
+SHUFFLE	COPY_MAP_DATA	1456840000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1078778
+SHUFFLE	COMPRESS_BYTE_COUNT	1078782
+SHUFFLE	COPY_MAP_DATA	246639000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1164679
+SHUFFLE	COMPRESS_BYTE_COUNT	1164683
+SHUFFLE	COPY_MAP_DATA	164547000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1082300
+SHUFFLE	COMPRESS_BYTE_COUNT	1082304
+SHUFFLE	COPY_MAP_DATA	62295000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	987553
+SHUFFLE	COMPRESS_BYTE_COUNT	987557
+SHUFFLE	COPY_MAP_DATA	66528000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	794185
+SHUFFLE	COMPRESS_BYTE_COUNT	794189
+SHUFFLE	COPY_MAP_DATA	3959837000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	787738
+SHUFFLE	COMPRESS_BYTE_COUNT	787742
+SHUFFLE	COPY_MAP_DATA	47501000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	755324
+SHUFFLE	COMPRESS_BYTE_COUNT	755328
+SHUFFLE	COPY_MAP_DATA	14851000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	782150
+SHUFFLE	COMPRESS_BYTE_COUNT	782154
+SHUFFLE	COPY_MAP_DATA	16489000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	746413
+SHUFFLE	COMPRESS_BYTE_COUNT	746417
+SHUFFLE	COPY_MAP_DATA	15924000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	770032
+SHUFFLE	COMPRESS_BYTE_COUNT	770036
+SHUFFLE	COPY_MAP_DATA	1043969000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	753751
+SHUFFLE	COMPRESS_BYTE_COUNT	753755
+SHUFFLE	COPY_MAP_DATA	141507000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	847035
+SHUFFLE	COMPRESS_BYTE_COUNT	847039
+SHUFFLE	COPY_MAP_DATA	1769534000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	842573
+SHUFFLE	COMPRESS_BYTE_COUNT	842577
+SHUFFLE	COPY_MAP_DATA	12449000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	744341
+SHUFFLE	COMPRESS_BYTE_COUNT	744345
+SHUFFLE	COPY_MAP_DATA	77993000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	835845
+SHUFFLE	COMPRESS_BYTE_COUNT	835849
+SHUFFLE	COPY_MAP_DATA	407992000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	755918
+SHUFFLE	COMPRESS_BYTE_COUNT	755922
+SHUFFLE	COPY_MAP_DATA	1190294000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	773212
+SHUFFLE	COMPRESS_BYTE_COUNT	773216
+SHUFFLE	COPY_MAP_DATA	709727000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	744754
+SHUFFLE	COMPRESS_BYTE_COUNT	744758
+SHUFFLE	COPY_MAP_DATA	530523000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	753566
+SHUFFLE	COMPRESS_BYTE_COUNT	753570
+SHUFFLE	COPY_MAP_DATA	20417000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	768931
+SHUFFLE	COMPRESS_BYTE_COUNT	768935
+SHUFFLE	COPY_MAP_DATA	68792000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	742899
+SHUFFLE	COMPRESS_BYTE_COUNT	742903
+SHUFFLE	COPY_MAP_DATA	8945000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	714381
+SHUFFLE	COMPRESS_BYTE_COUNT	714385
+SHUFFLE	COPY_MAP_DATA	16604000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	713537
+SHUFFLE	COMPRESS_BYTE_COUNT	713541
+SHUFFLE	COPY_MAP_DATA	2895734000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	771605
+SHUFFLE	COMPRESS_BYTE_COUNT	771609
+SHUFFLE	COPY_MAP_DATA	140994000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	738323
+SHUFFLE	COMPRESS_BYTE_COUNT	738327
+SHUFFLE	COPY_MAP_DATA	156950000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1116197
+SHUFFLE	COMPRESS_BYTE_COUNT	1116201
+SHUFFLE	COPY_MAP_DATA	11436000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	962392
+SHUFFLE	COMPRESS_BYTE_COUNT	962396
+SHUFFLE	COPY_MAP_DATA	36317000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1102784
+SHUFFLE	COMPRESS_BYTE_COUNT	1102788
+SHUFFLE	COPY_MAP_DATA	81775000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1106509
+SHUFFLE	COMPRESS_BYTE_COUNT	1106513
+SHUFFLE	COPY_MAP_DATA	25218000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	738113
+SHUFFLE	COMPRESS_BYTE_COUNT	738117
+SHUFFLE	COPY_MAP_DATA	36431000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1123063
+SHUFFLE	COMPRESS_BYTE_COUNT	1123067
+SHUFFLE	COPY_MAP_DATA	43376000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1085671
+SHUFFLE	COMPRESS_BYTE_COUNT	1085675
+SHUFFLE	COPY_MAP_DATA	23445000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1138023
+SHUFFLE	COMPRESS_BYTE_COUNT	1138027
+SHUFFLE	COPY_MAP_DATA	20964000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	309658
+SHUFFLE	COMPRESS_BYTE_COUNT	309662
+SHUFFLE	COPY_MAP_DATA	1719155000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	749629
+SHUFFLE	COMPRESS_BYTE_COUNT	749633
+SHUFFLE	COPY_MAP_DATA	16863000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	238942
+SHUFFLE	COMPRESS_BYTE_COUNT	238946
+SHUFFLE	COPY_MAP_DATA	10477000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	738809
+SHUFFLE	COMPRESS_BYTE_COUNT	738813
+SHUFFLE	COPY_MAP_DATA	44306000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	658815
+SHUFFLE	COMPRESS_BYTE_COUNT	658819
+SHUFFLE	COPY_MAP_DATA	77113000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	958043
+SHUFFLE	COMPRESS_BYTE_COUNT	958047
+SHUFFLE	COPY_MAP_DATA	29595000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	580384
+SHUFFLE	COMPRESS_BYTE_COUNT	580388
+SHUFFLE	COPY_MAP_DATA	14949000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	352144
+SHUFFLE	COMPRESS_BYTE_COUNT	352148
+SHUFFLE	COPY_MAP_DATA	10907000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	733066
+SHUFFLE	COMPRESS_BYTE_COUNT	733070
+SHUFFLE	COPY_MAP_DATA	18295000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	664333
+SHUFFLE	COMPRESS_BYTE_COUNT	664337
+SHUFFLE	COPY_MAP_DATA	14563000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	407562
+SHUFFLE	COMPRESS_BYTE_COUNT	407566
+SHUFFLE	COPY_MAP_DATA	23135000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	466858
+SHUFFLE	COMPRESS_BYTE_COUNT	466862
+SHUFFLE	COPY_MAP_DATA	322227000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	701053
+SHUFFLE	COMPRESS_BYTE_COUNT	701057
+SHUFFLE	COPY_MAP_DATA	609267000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	710040
+SHUFFLE	COMPRESS_BYTE_COUNT	710044
+SHUFFLE	COPY_MAP_DATA	17217000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	720098
+SHUFFLE	COMPRESS_BYTE_COUNT	720102
+SHUFFLE	COPY_MAP_DATA	1204061000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	139622
+SHUFFLE	COMPRESS_BYTE_COUNT	139626
+SHUFFLE	COPY_MAP_DATA	1314528000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	746726
+SHUFFLE	COMPRESS_BYTE_COUNT	746730
+SHUFFLE	COPY_MAP_DATA	15397000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	185075
+SHUFFLE	COMPRESS_BYTE_COUNT	185079
+SHUFFLE	COPY_MAP_DATA	7893000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	217015
+SHUFFLE	COMPRESS_BYTE_COUNT	217019
+SHUFFLE	COPY_MAP_DATA	27946000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	725402
+SHUFFLE	COMPRESS_BYTE_COUNT	725406
+SHUFFLE	COPY_MAP_DATA	18799000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	206960
+SHUFFLE	COMPRESS_BYTE_COUNT	206964
+SHUFFLE	COPY_MAP_DATA	1262000000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	637501
+SHUFFLE	COMPRESS_BYTE_COUNT	637505
+SHUFFLE	COPY_MAP_DATA	112143000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	511656
+SHUFFLE	COMPRESS_BYTE_COUNT	511660
+SHUFFLE	COPY_MAP_DATA	384260000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	316122
+SHUFFLE	COMPRESS_BYTE_COUNT	316126
+SHUFFLE	COPY_MAP_DATA	6754000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	220495
+SHUFFLE	COMPRESS_BYTE_COUNT	220499
+SHUFFLE	COPY_MAP_DATA	29319000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	650251
+SHUFFLE	COMPRESS_BYTE_COUNT	650255
+SHUFFLE	COPY_MAP_DATA	145183000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	498181
+SHUFFLE	COMPRESS_BYTE_COUNT	498185
+SHUFFLE	COPY_MAP_DATA	16464000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	169045
+SHUFFLE	COMPRESS_BYTE_COUNT	169049
+SHUFFLE	COPY_MAP_DATA	7074000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	481671
+SHUFFLE	COMPRESS_BYTE_COUNT	481675
+SHUFFLE	COPY_MAP_DATA	13735000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	647331
+SHUFFLE	COMPRESS_BYTE_COUNT	647335
+SHUFFLE	COPY_MAP_DATA	15879000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	524583
+SHUFFLE	COMPRESS_BYTE_COUNT	524587
+SHUFFLE	COPY_MAP_DATA	1285870000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	717357
+SHUFFLE	COMPRESS_BYTE_COUNT	717361
+SHUFFLE	COPY_MAP_DATA	95549000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	692506
+SHUFFLE	COMPRESS_BYTE_COUNT	692510
+SHUFFLE	COPY_MAP_DATA	111311000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	441781
+SHUFFLE	COMPRESS_BYTE_COUNT	441785
+SHUFFLE	COPY_MAP_DATA	10659000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	642762
+SHUFFLE	COMPRESS_BYTE_COUNT	642766
+SHUFFLE	COPY_MAP_DATA	5000000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	741696
+SHUFFLE	COMPRESS_BYTE_COUNT	741700
+SHUFFLE	COPY_MAP_DATA	322488000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	408605
+SHUFFLE	COMPRESS_BYTE_COUNT	408609
+SHUFFLE	COPY_MAP_DATA	38632000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	792595
+SHUFFLE	COMPRESS_BYTE_COUNT	792599
+SHUFFLE	COPY_MAP_DATA	20642000
+SHUFFLE	UNCOMPRESS	0
+SORT	MERGE_MAP_DATA	12343555000
+SORT	READ_WRITE	12264710000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	86426648
+REDUCE	SETUP	272000
+REDUCE	SETUP_MEM	86426648
+REDUCE	CLEANUP	30000
+REDUCE	CLEANUP_MEM	106915656
+REDUCE	TOTAL_RUN	15072063000
+REDUCE	READ	813342000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	8948525000
+REDUCE	WRITE	2495259000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	11642453
+REDUCE	VALUE_BYTE_COUNT	1193433
+REDUCE	REDUCE_MEM	106915656
+REDUCE	WRITE	10214000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	514400758000
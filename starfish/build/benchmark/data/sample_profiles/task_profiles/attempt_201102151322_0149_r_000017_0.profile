@@ -0,0 +1,410 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	790564
+SHUFFLE	COMPRESS_BYTE_COUNT	790568
+SHUFFLE	COPY_MAP_DATA	270242000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1088944
+SHUFFLE	COMPRESS_BYTE_COUNT	1088948
+SHUFFLE	COPY_MAP_DATA	139423000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1019549
+SHUFFLE	COMPRESS_BYTE_COUNT	1019553
+SHUFFLE	COPY_MAP_DATA	119792000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1028590
+SHUFFLE	COMPRESS_BYTE_COUNT	1028594
+SHUFFLE	COPY_MAP_DATA	100636000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	996633
+SHUFFLE	COMPRESS_BYTE_COUNT	996637
+SHUFFLE	COPY_MAP_DATA	24538000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1110245
+SHUFFLE	COMPRESS_BYTE_COUNT	1110249
+SHUFFLE	COPY_MAP_DATA	182223000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1060737
+SHUFFLE	COMPRESS_BYTE_COUNT	1060741
+SHUFFLE	COPY_MAP_DATA	240507000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1078187
+SHUFFLE	COMPRESS_BYTE_COUNT	1078191
+SHUFFLE	COPY_MAP_DATA	1740297000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1142706
+SHUFFLE	COMPRESS_BYTE_COUNT	1142710
+SHUFFLE	COPY_MAP_DATA	658065000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1061206
+SHUFFLE	COMPRESS_BYTE_COUNT	1061210
+SHUFFLE	COPY_MAP_DATA	122815000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1118378
+SHUFFLE	COMPRESS_BYTE_COUNT	1118382
+SHUFFLE	COPY_MAP_DATA	2108886000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1095128
+SHUFFLE	COMPRESS_BYTE_COUNT	1095132
+SHUFFLE	COPY_MAP_DATA	810961000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1113141
+SHUFFLE	COMPRESS_BYTE_COUNT	1113145
+SHUFFLE	COPY_MAP_DATA	567379000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1134402
+SHUFFLE	COMPRESS_BYTE_COUNT	1134406
+SHUFFLE	COPY_MAP_DATA	170996000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1112535
+SHUFFLE	COMPRESS_BYTE_COUNT	1112539
+SHUFFLE	COPY_MAP_DATA	72547000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1128844
+SHUFFLE	COMPRESS_BYTE_COUNT	1128848
+SHUFFLE	COPY_MAP_DATA	236567000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1013974
+SHUFFLE	COMPRESS_BYTE_COUNT	1013978
+SHUFFLE	COPY_MAP_DATA	9553000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1104444
+SHUFFLE	COMPRESS_BYTE_COUNT	1104448
+SHUFFLE	COPY_MAP_DATA	54442000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	941615
+SHUFFLE	COMPRESS_BYTE_COUNT	941619
+SHUFFLE	COPY_MAP_DATA	290866000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1234030
+SHUFFLE	COMPRESS_BYTE_COUNT	1234034
+SHUFFLE	COPY_MAP_DATA	35629000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1083961
+SHUFFLE	COMPRESS_BYTE_COUNT	1083965
+SHUFFLE	COPY_MAP_DATA	11599000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1110733
+SHUFFLE	COMPRESS_BYTE_COUNT	1110737
+SHUFFLE	COPY_MAP_DATA	74837000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1109581
+SHUFFLE	COMPRESS_BYTE_COUNT	1109585
+SHUFFLE	COPY_MAP_DATA	35043000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1120514
+SHUFFLE	COMPRESS_BYTE_COUNT	1120518
+SHUFFLE	COPY_MAP_DATA	151202000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1104445
+SHUFFLE	COMPRESS_BYTE_COUNT	1104449
+SHUFFLE	COPY_MAP_DATA	24594000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1081966
+SHUFFLE	COMPRESS_BYTE_COUNT	1081970
+SHUFFLE	COPY_MAP_DATA	690132000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1011671
+SHUFFLE	COMPRESS_BYTE_COUNT	1011675
+SHUFFLE	COPY_MAP_DATA	50350414
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1084294
+SHUFFLE	COMPRESS_BYTE_COUNT	1084298
+SHUFFLE	COPY_MAP_DATA	406195000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1171638
+SHUFFLE	COMPRESS_BYTE_COUNT	1171642
+SHUFFLE	COPY_MAP_DATA	273511000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	993606
+SHUFFLE	COMPRESS_BYTE_COUNT	993610
+SHUFFLE	COPY_MAP_DATA	50236000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	793261
+SHUFFLE	COMPRESS_BYTE_COUNT	793265
+SHUFFLE	COPY_MAP_DATA	803645000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	790461
+SHUFFLE	COMPRESS_BYTE_COUNT	790465
+SHUFFLE	COPY_MAP_DATA	64239000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	752205
+SHUFFLE	COMPRESS_BYTE_COUNT	752209
+SHUFFLE	COPY_MAP_DATA	151842000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	772760
+SHUFFLE	COMPRESS_BYTE_COUNT	772764
+SHUFFLE	COPY_MAP_DATA	819396000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	749750
+SHUFFLE	COMPRESS_BYTE_COUNT	749754
+SHUFFLE	COPY_MAP_DATA	35016000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	782212
+SHUFFLE	COMPRESS_BYTE_COUNT	782216
+SHUFFLE	COPY_MAP_DATA	22397000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	751949
+SHUFFLE	COMPRESS_BYTE_COUNT	751953
+SHUFFLE	COPY_MAP_DATA	29917000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	840260
+SHUFFLE	COMPRESS_BYTE_COUNT	840264
+SHUFFLE	COPY_MAP_DATA	1029866000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	842825
+SHUFFLE	COMPRESS_BYTE_COUNT	842829
+SHUFFLE	COPY_MAP_DATA	63452000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	737149
+SHUFFLE	COMPRESS_BYTE_COUNT	737153
+SHUFFLE	COPY_MAP_DATA	14995000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	840249
+SHUFFLE	COMPRESS_BYTE_COUNT	840253
+SHUFFLE	COPY_MAP_DATA	23945000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	755788
+SHUFFLE	COMPRESS_BYTE_COUNT	755792
+SHUFFLE	COPY_MAP_DATA	114127000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	773389
+SHUFFLE	COMPRESS_BYTE_COUNT	773393
+SHUFFLE	COPY_MAP_DATA	18256000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	777835
+SHUFFLE	COMPRESS_BYTE_COUNT	777839
+SHUFFLE	COPY_MAP_DATA	28184000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	740297
+SHUFFLE	COMPRESS_BYTE_COUNT	740301
+SHUFFLE	COPY_MAP_DATA	9093000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	755331
+SHUFFLE	COMPRESS_BYTE_COUNT	755335
+SHUFFLE	COPY_MAP_DATA	25382000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	711920
+SHUFFLE	COMPRESS_BYTE_COUNT	711924
+SHUFFLE	COPY_MAP_DATA	104264000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	745640
+SHUFFLE	COMPRESS_BYTE_COUNT	745644
+SHUFFLE	COPY_MAP_DATA	39107000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	774149
+SHUFFLE	COMPRESS_BYTE_COUNT	774153
+SHUFFLE	COPY_MAP_DATA	18443000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	708349
+SHUFFLE	COMPRESS_BYTE_COUNT	708353
+SHUFFLE	COPY_MAP_DATA	15701000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	743662
+SHUFFLE	COMPRESS_BYTE_COUNT	743666
+SHUFFLE	COPY_MAP_DATA	89348000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	970734
+SHUFFLE	COMPRESS_BYTE_COUNT	970738
+SHUFFLE	COPY_MAP_DATA	68290000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1115820
+SHUFFLE	COMPRESS_BYTE_COUNT	1115824
+SHUFFLE	COPY_MAP_DATA	29619000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1104181
+SHUFFLE	COMPRESS_BYTE_COUNT	1104185
+SHUFFLE	COPY_MAP_DATA	324458000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1111540
+SHUFFLE	COMPRESS_BYTE_COUNT	1111544
+SHUFFLE	COPY_MAP_DATA	58334000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	736702
+SHUFFLE	COMPRESS_BYTE_COUNT	736706
+SHUFFLE	COPY_MAP_DATA	15157000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1119097
+SHUFFLE	COMPRESS_BYTE_COUNT	1119101
+SHUFFLE	COPY_MAP_DATA	75432000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1149034
+SHUFFLE	COMPRESS_BYTE_COUNT	1149038
+SHUFFLE	COPY_MAP_DATA	78590000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1087816
+SHUFFLE	COMPRESS_BYTE_COUNT	1087820
+SHUFFLE	COPY_MAP_DATA	19546000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	312296
+SHUFFLE	COMPRESS_BYTE_COUNT	312300
+SHUFFLE	COPY_MAP_DATA	9785000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	240731
+SHUFFLE	COMPRESS_BYTE_COUNT	240735
+SHUFFLE	COPY_MAP_DATA	9187000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	740913
+SHUFFLE	COMPRESS_BYTE_COUNT	740917
+SHUFFLE	COPY_MAP_DATA	18107000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	749344
+SHUFFLE	COMPRESS_BYTE_COUNT	749348
+SHUFFLE	COPY_MAP_DATA	88069000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	654036
+SHUFFLE	COMPRESS_BYTE_COUNT	654040
+SHUFFLE	COPY_MAP_DATA	37636000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	578812
+SHUFFLE	COMPRESS_BYTE_COUNT	578816
+SHUFFLE	COPY_MAP_DATA	127129000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	961019
+SHUFFLE	COMPRESS_BYTE_COUNT	961023
+SHUFFLE	COPY_MAP_DATA	96166000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	351865
+SHUFFLE	COMPRESS_BYTE_COUNT	351869
+SHUFFLE	COPY_MAP_DATA	12725000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	732171
+SHUFFLE	COMPRESS_BYTE_COUNT	732175
+SHUFFLE	COPY_MAP_DATA	16958000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	664220
+SHUFFLE	COMPRESS_BYTE_COUNT	664224
+SHUFFLE	COPY_MAP_DATA	14794000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	405152
+SHUFFLE	COMPRESS_BYTE_COUNT	405156
+SHUFFLE	COPY_MAP_DATA	35195000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	466454
+SHUFFLE	COMPRESS_BYTE_COUNT	466458
+SHUFFLE	COPY_MAP_DATA	14300000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	696672
+SHUFFLE	COMPRESS_BYTE_COUNT	696676
+SHUFFLE	COPY_MAP_DATA	14981000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	710050
+SHUFFLE	COMPRESS_BYTE_COUNT	710054
+SHUFFLE	COPY_MAP_DATA	15094000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	713971
+SHUFFLE	COMPRESS_BYTE_COUNT	713975
+SHUFFLE	COPY_MAP_DATA	90861000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	136705
+SHUFFLE	COMPRESS_BYTE_COUNT	136709
+SHUFFLE	COPY_MAP_DATA	7836000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	747058
+SHUFFLE	COMPRESS_BYTE_COUNT	747062
+SHUFFLE	COPY_MAP_DATA	17341000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	732033
+SHUFFLE	COMPRESS_BYTE_COUNT	732037
+SHUFFLE	COPY_MAP_DATA	111385000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	182747
+SHUFFLE	COMPRESS_BYTE_COUNT	182751
+SHUFFLE	COPY_MAP_DATA	8009000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	513771
+SHUFFLE	COMPRESS_BYTE_COUNT	513775
+SHUFFLE	COPY_MAP_DATA	27505000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	215332
+SHUFFLE	COMPRESS_BYTE_COUNT	215336
+SHUFFLE	COPY_MAP_DATA	19314000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	636483
+SHUFFLE	COMPRESS_BYTE_COUNT	636487
+SHUFFLE	COPY_MAP_DATA	50615000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	205402
+SHUFFLE	COMPRESS_BYTE_COUNT	205406
+SHUFFLE	COPY_MAP_DATA	76952000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	314085
+SHUFFLE	COMPRESS_BYTE_COUNT	314089
+SHUFFLE	COPY_MAP_DATA	6578000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	655499
+SHUFFLE	COMPRESS_BYTE_COUNT	655503
+SHUFFLE	COPY_MAP_DATA	122437000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	503132
+SHUFFLE	COMPRESS_BYTE_COUNT	503136
+SHUFFLE	COPY_MAP_DATA	48007000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	219723
+SHUFFLE	COMPRESS_BYTE_COUNT	219727
+SHUFFLE	COPY_MAP_DATA	26971000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	170387
+SHUFFLE	COMPRESS_BYTE_COUNT	170391
+SHUFFLE	COPY_MAP_DATA	32753000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	481374
+SHUFFLE	COMPRESS_BYTE_COUNT	481378
+SHUFFLE	COPY_MAP_DATA	12177000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	647945
+SHUFFLE	COMPRESS_BYTE_COUNT	647949
+SHUFFLE	COPY_MAP_DATA	16575000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	526014
+SHUFFLE	COMPRESS_BYTE_COUNT	526018
+SHUFFLE	COPY_MAP_DATA	2145319000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	714644
+SHUFFLE	COMPRESS_BYTE_COUNT	714648
+SHUFFLE	COPY_MAP_DATA	45295000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	692238
+SHUFFLE	COMPRESS_BYTE_COUNT	692242
+SHUFFLE	COPY_MAP_DATA	15766000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	740610
+SHUFFLE	COMPRESS_BYTE_COUNT	740614
+SHUFFLE	COPY_MAP_DATA	43919000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	439888
+SHUFFLE	COMPRESS_BYTE_COUNT	439892
+SHUFFLE	COPY_MAP_DATA	51736000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	639162
+SHUFFLE	COMPRESS_BYTE_COUNT	639166
+SHUFFLE	COPY_MAP_DATA	25972000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	407124
+SHUFFLE	COMPRESS_BYTE_COUNT	407128
+SHUFFLE	COPY_MAP_DATA	14597000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	789930
+SHUFFLE	COMPRESS_BYTE_COUNT	789934
+SHUFFLE	COPY_MAP_DATA	16606000
+SHUFFLE	UNCOMPRESS	0
+SORT	MERGE_MAP_DATA	10384562000
+SORT	READ_WRITE	10310609000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	86442496
+REDUCE	SETUP	331000
+REDUCE	SETUP_MEM	86442496
+REDUCE	CLEANUP	36000
+REDUCE	CLEANUP_MEM	98113416
+REDUCE	TOTAL_RUN	18959069000
+REDUCE	READ	628638000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	10795113000
+REDUCE	WRITE	3570598000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	11637983
+REDUCE	VALUE_BYTE_COUNT	1192997
+REDUCE	REDUCE_MEM	98113416
+REDUCE	WRITE	13753000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	516059353559
@@ -0,0 +1,410 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1016586
+SHUFFLE	COMPRESS_BYTE_COUNT	1016590
+SHUFFLE	COPY_MAP_DATA	968768000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1094063
+SHUFFLE	COMPRESS_BYTE_COUNT	1094067
+SHUFFLE	COPY_MAP_DATA	130459000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1004218
+SHUFFLE	COMPRESS_BYTE_COUNT	1004222
+SHUFFLE	COPY_MAP_DATA	71473000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1041752
+SHUFFLE	COMPRESS_BYTE_COUNT	1041756
+SHUFFLE	COPY_MAP_DATA	76421000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	798158
+SHUFFLE	COMPRESS_BYTE_COUNT	798162
+SHUFFLE	COPY_MAP_DATA	105321000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1105276
+SHUFFLE	COMPRESS_BYTE_COUNT	1105280
+SHUFFLE	COPY_MAP_DATA	41985000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1072605
+SHUFFLE	COMPRESS_BYTE_COUNT	1072609
+SHUFFLE	COPY_MAP_DATA	38165000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1079561
+SHUFFLE	COMPRESS_BYTE_COUNT	1079565
+SHUFFLE	COPY_MAP_DATA	843164000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1144999
+SHUFFLE	COMPRESS_BYTE_COUNT	1145003
+SHUFFLE	COPY_MAP_DATA	684637000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1096153
+SHUFFLE	COMPRESS_BYTE_COUNT	1096157
+SHUFFLE	COPY_MAP_DATA	146814000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1063748
+SHUFFLE	COMPRESS_BYTE_COUNT	1063752
+SHUFFLE	COPY_MAP_DATA	2176198000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1113680
+SHUFFLE	COMPRESS_BYTE_COUNT	1113684
+SHUFFLE	COPY_MAP_DATA	11091000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1139274
+SHUFFLE	COMPRESS_BYTE_COUNT	1139278
+SHUFFLE	COPY_MAP_DATA	9932000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1109350
+SHUFFLE	COMPRESS_BYTE_COUNT	1109354
+SHUFFLE	COPY_MAP_DATA	262955000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1012756
+SHUFFLE	COMPRESS_BYTE_COUNT	1012760
+SHUFFLE	COPY_MAP_DATA	2230977000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1115030
+SHUFFLE	COMPRESS_BYTE_COUNT	1115034
+SHUFFLE	COPY_MAP_DATA	142342000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1124359
+SHUFFLE	COMPRESS_BYTE_COUNT	1124363
+SHUFFLE	COPY_MAP_DATA	82801000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1102034
+SHUFFLE	COMPRESS_BYTE_COUNT	1102038
+SHUFFLE	COPY_MAP_DATA	126949000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	949982
+SHUFFLE	COMPRESS_BYTE_COUNT	949986
+SHUFFLE	COPY_MAP_DATA	207129000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1233069
+SHUFFLE	COMPRESS_BYTE_COUNT	1233073
+SHUFFLE	COPY_MAP_DATA	197786000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1086216
+SHUFFLE	COMPRESS_BYTE_COUNT	1086220
+SHUFFLE	COPY_MAP_DATA	20310000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1118144
+SHUFFLE	COMPRESS_BYTE_COUNT	1118148
+SHUFFLE	COPY_MAP_DATA	60690000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1116945
+SHUFFLE	COMPRESS_BYTE_COUNT	1116949
+SHUFFLE	COPY_MAP_DATA	134545000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1121404
+SHUFFLE	COMPRESS_BYTE_COUNT	1121408
+SHUFFLE	COPY_MAP_DATA	168108000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1126812
+SHUFFLE	COMPRESS_BYTE_COUNT	1126816
+SHUFFLE	COPY_MAP_DATA	93628000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1079121
+SHUFFLE	COMPRESS_BYTE_COUNT	1079125
+SHUFFLE	COPY_MAP_DATA	19287000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1011788
+SHUFFLE	COMPRESS_BYTE_COUNT	1011792
+SHUFFLE	COPY_MAP_DATA	16581000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1084334
+SHUFFLE	COMPRESS_BYTE_COUNT	1084338
+SHUFFLE	COPY_MAP_DATA	46211000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	997432
+SHUFFLE	COMPRESS_BYTE_COUNT	997436
+SHUFFLE	COPY_MAP_DATA	67489000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1173438
+SHUFFLE	COMPRESS_BYTE_COUNT	1173442
+SHUFFLE	COPY_MAP_DATA	29624000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	792741
+SHUFFLE	COMPRESS_BYTE_COUNT	792745
+SHUFFLE	COPY_MAP_DATA	169859000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	796525
+SHUFFLE	COMPRESS_BYTE_COUNT	796529
+SHUFFLE	COPY_MAP_DATA	24593000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	748877
+SHUFFLE	COMPRESS_BYTE_COUNT	748881
+SHUFFLE	COPY_MAP_DATA	19856000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	782133
+SHUFFLE	COMPRESS_BYTE_COUNT	782137
+SHUFFLE	COPY_MAP_DATA	77572000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	752644
+SHUFFLE	COMPRESS_BYTE_COUNT	752648
+SHUFFLE	COPY_MAP_DATA	327230000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	783328
+SHUFFLE	COMPRESS_BYTE_COUNT	783332
+SHUFFLE	COPY_MAP_DATA	16834000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	754579
+SHUFFLE	COMPRESS_BYTE_COUNT	754583
+SHUFFLE	COPY_MAP_DATA	429416000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	852864
+SHUFFLE	COMPRESS_BYTE_COUNT	852868
+SHUFFLE	COPY_MAP_DATA	427665000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	851381
+SHUFFLE	COMPRESS_BYTE_COUNT	851385
+SHUFFLE	COPY_MAP_DATA	42397000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	841980
+SHUFFLE	COMPRESS_BYTE_COUNT	841984
+SHUFFLE	COPY_MAP_DATA	41002000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	738220
+SHUFFLE	COMPRESS_BYTE_COUNT	738224
+SHUFFLE	COPY_MAP_DATA	38120000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	758121
+SHUFFLE	COMPRESS_BYTE_COUNT	758125
+SHUFFLE	COPY_MAP_DATA	1557783000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	778198
+SHUFFLE	COMPRESS_BYTE_COUNT	778202
+SHUFFLE	COPY_MAP_DATA	324738000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	749773
+SHUFFLE	COMPRESS_BYTE_COUNT	749777
+SHUFFLE	COPY_MAP_DATA	104804000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	752795
+SHUFFLE	COMPRESS_BYTE_COUNT	752799
+SHUFFLE	COPY_MAP_DATA	142060000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	776469
+SHUFFLE	COMPRESS_BYTE_COUNT	776473
+SHUFFLE	COPY_MAP_DATA	71354000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	744676
+SHUFFLE	COMPRESS_BYTE_COUNT	744680
+SHUFFLE	COPY_MAP_DATA	96840000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	711219
+SHUFFLE	COMPRESS_BYTE_COUNT	711223
+SHUFFLE	COPY_MAP_DATA	151816000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	713454
+SHUFFLE	COMPRESS_BYTE_COUNT	713458
+SHUFFLE	COPY_MAP_DATA	15678000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	777363
+SHUFFLE	COMPRESS_BYTE_COUNT	777367
+SHUFFLE	COPY_MAP_DATA	41680000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	746778
+SHUFFLE	COMPRESS_BYTE_COUNT	746782
+SHUFFLE	COPY_MAP_DATA	62190000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1117710
+SHUFFLE	COMPRESS_BYTE_COUNT	1117714
+SHUFFLE	COPY_MAP_DATA	18989000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	966901
+SHUFFLE	COMPRESS_BYTE_COUNT	966905
+SHUFFLE	COPY_MAP_DATA	44771000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1104921
+SHUFFLE	COMPRESS_BYTE_COUNT	1104925
+SHUFFLE	COPY_MAP_DATA	26380000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	735425
+SHUFFLE	COMPRESS_BYTE_COUNT	735429
+SHUFFLE	COPY_MAP_DATA	575977000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1112123
+SHUFFLE	COMPRESS_BYTE_COUNT	1112127
+SHUFFLE	COPY_MAP_DATA	36659000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1119459
+SHUFFLE	COMPRESS_BYTE_COUNT	1119463
+SHUFFLE	COPY_MAP_DATA	24761000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1087545
+SHUFFLE	COMPRESS_BYTE_COUNT	1087549
+SHUFFLE	COPY_MAP_DATA	50014000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1151655
+SHUFFLE	COMPRESS_BYTE_COUNT	1151659
+SHUFFLE	COPY_MAP_DATA	66150000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	311221
+SHUFFLE	COMPRESS_BYTE_COUNT	311225
+SHUFFLE	COPY_MAP_DATA	96513000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	757182
+SHUFFLE	COMPRESS_BYTE_COUNT	757186
+SHUFFLE	COPY_MAP_DATA	128438000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	240860
+SHUFFLE	COMPRESS_BYTE_COUNT	240864
+SHUFFLE	COPY_MAP_DATA	4280000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	740026
+SHUFFLE	COMPRESS_BYTE_COUNT	740030
+SHUFFLE	COPY_MAP_DATA	16731000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	663096
+SHUFFLE	COMPRESS_BYTE_COUNT	663100
+SHUFFLE	COPY_MAP_DATA	14698000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	574461
+SHUFFLE	COMPRESS_BYTE_COUNT	574465
+SHUFFLE	COPY_MAP_DATA	90689000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	960825
+SHUFFLE	COMPRESS_BYTE_COUNT	960829
+SHUFFLE	COPY_MAP_DATA	43139000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	353095
+SHUFFLE	COMPRESS_BYTE_COUNT	353099
+SHUFFLE	COPY_MAP_DATA	13151000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	731658
+SHUFFLE	COMPRESS_BYTE_COUNT	731662
+SHUFFLE	COPY_MAP_DATA	64081000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	407877
+SHUFFLE	COMPRESS_BYTE_COUNT	407881
+SHUFFLE	COPY_MAP_DATA	21180000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	663019
+SHUFFLE	COMPRESS_BYTE_COUNT	663023
+SHUFFLE	COPY_MAP_DATA	25962000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	467735
+SHUFFLE	COMPRESS_BYTE_COUNT	467739
+SHUFFLE	COPY_MAP_DATA	33715000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	703657
+SHUFFLE	COMPRESS_BYTE_COUNT	703661
+SHUFFLE	COPY_MAP_DATA	35894000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	711358
+SHUFFLE	COMPRESS_BYTE_COUNT	711362
+SHUFFLE	COPY_MAP_DATA	14163000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	715313
+SHUFFLE	COMPRESS_BYTE_COUNT	715317
+SHUFFLE	COPY_MAP_DATA	14363000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	753676
+SHUFFLE	COMPRESS_BYTE_COUNT	753680
+SHUFFLE	COPY_MAP_DATA	16455000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	137994
+SHUFFLE	COMPRESS_BYTE_COUNT	137998
+SHUFFLE	COPY_MAP_DATA	7696000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	212566
+SHUFFLE	COMPRESS_BYTE_COUNT	212570
+SHUFFLE	COPY_MAP_DATA	3580000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	724625
+SHUFFLE	COMPRESS_BYTE_COUNT	724629
+SHUFFLE	COPY_MAP_DATA	17337000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	183198
+SHUFFLE	COMPRESS_BYTE_COUNT	183202
+SHUFFLE	COPY_MAP_DATA	6080000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	512805
+SHUFFLE	COMPRESS_BYTE_COUNT	512809
+SHUFFLE	COPY_MAP_DATA	12529000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	639171
+SHUFFLE	COMPRESS_BYTE_COUNT	639175
+SHUFFLE	COPY_MAP_DATA	26325000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	314741
+SHUFFLE	COMPRESS_BYTE_COUNT	314745
+SHUFFLE	COPY_MAP_DATA	16200000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	204236
+SHUFFLE	COMPRESS_BYTE_COUNT	204240
+SHUFFLE	COPY_MAP_DATA	8265000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	169019
+SHUFFLE	COMPRESS_BYTE_COUNT	169023
+SHUFFLE	COPY_MAP_DATA	7709000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	221144
+SHUFFLE	COMPRESS_BYTE_COUNT	221148
+SHUFFLE	COPY_MAP_DATA	8436000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	504142
+SHUFFLE	COMPRESS_BYTE_COUNT	504146
+SHUFFLE	COPY_MAP_DATA	11278000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	652356
+SHUFFLE	COMPRESS_BYTE_COUNT	652360
+SHUFFLE	COPY_MAP_DATA	51286000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	483025
+SHUFFLE	COMPRESS_BYTE_COUNT	483029
+SHUFFLE	COPY_MAP_DATA	23120000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	645523
+SHUFFLE	COMPRESS_BYTE_COUNT	645527
+SHUFFLE	COPY_MAP_DATA	42235000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	717378
+SHUFFLE	COMPRESS_BYTE_COUNT	717382
+SHUFFLE	COPY_MAP_DATA	16181000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	526171
+SHUFFLE	COMPRESS_BYTE_COUNT	526175
+SHUFFLE	COPY_MAP_DATA	27327000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	438006
+SHUFFLE	COMPRESS_BYTE_COUNT	438010
+SHUFFLE	COPY_MAP_DATA	10689000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	690561
+SHUFFLE	COMPRESS_BYTE_COUNT	690565
+SHUFFLE	COPY_MAP_DATA	33361000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	643383
+SHUFFLE	COMPRESS_BYTE_COUNT	643387
+SHUFFLE	COPY_MAP_DATA	13499000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	744474
+SHUFFLE	COMPRESS_BYTE_COUNT	744478
+SHUFFLE	COPY_MAP_DATA	19650000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	408041
+SHUFFLE	COMPRESS_BYTE_COUNT	408045
+SHUFFLE	COPY_MAP_DATA	11545000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	789790
+SHUFFLE	COMPRESS_BYTE_COUNT	789794
+SHUFFLE	COPY_MAP_DATA	15513000
+SHUFFLE	UNCOMPRESS	0
+SORT	MERGE_MAP_DATA	9934301000
+SORT	READ_WRITE	9837191000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	102298664
+REDUCE	SETUP	305000
+REDUCE	SETUP_MEM	102298664
+REDUCE	CLEANUP	35000
+REDUCE	CLEANUP_MEM	82786728
+REDUCE	TOTAL_RUN	15730800000
+REDUCE	READ	717085000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	9411848000
+REDUCE	WRITE	2737371000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	11671881
+REDUCE	VALUE_BYTE_COUNT	1195126
+REDUCE	REDUCE_MEM	82788776
+REDUCE	WRITE	7535000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	516798286016
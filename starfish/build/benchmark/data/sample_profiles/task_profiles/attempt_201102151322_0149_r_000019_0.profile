@@ -0,0 +1,410 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1011848
+SHUFFLE	COMPRESS_BYTE_COUNT	1011852
+SHUFFLE	COPY_MAP_DATA	1040869000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	791951
+SHUFFLE	COMPRESS_BYTE_COUNT	791955
+SHUFFLE	COPY_MAP_DATA	410972000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1088002
+SHUFFLE	COMPRESS_BYTE_COUNT	1088006
+SHUFFLE	COPY_MAP_DATA	68972000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1029280
+SHUFFLE	COMPRESS_BYTE_COUNT	1029284
+SHUFFLE	COPY_MAP_DATA	36753000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1002120
+SHUFFLE	COMPRESS_BYTE_COUNT	1002124
+SHUFFLE	COPY_MAP_DATA	610750866
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1102358
+SHUFFLE	COMPRESS_BYTE_COUNT	1102362
+SHUFFLE	COPY_MAP_DATA	119007000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1068049
+SHUFFLE	COMPRESS_BYTE_COUNT	1068053
+SHUFFLE	COPY_MAP_DATA	38854000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1109021
+SHUFFLE	COMPRESS_BYTE_COUNT	1109025
+SHUFFLE	COPY_MAP_DATA	20912000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1140017
+SHUFFLE	COMPRESS_BYTE_COUNT	1140021
+SHUFFLE	COPY_MAP_DATA	553927000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1076606
+SHUFFLE	COMPRESS_BYTE_COUNT	1076610
+SHUFFLE	COPY_MAP_DATA	193815000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1057612
+SHUFFLE	COMPRESS_BYTE_COUNT	1057616
+SHUFFLE	COPY_MAP_DATA	84969000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1098678
+SHUFFLE	COMPRESS_BYTE_COUNT	1098682
+SHUFFLE	COPY_MAP_DATA	278468000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1134675
+SHUFFLE	COMPRESS_BYTE_COUNT	1134679
+SHUFFLE	COPY_MAP_DATA	1329339000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1113900
+SHUFFLE	COMPRESS_BYTE_COUNT	1113904
+SHUFFLE	COPY_MAP_DATA	216344000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1130703
+SHUFFLE	COMPRESS_BYTE_COUNT	1130707
+SHUFFLE	COPY_MAP_DATA	32497000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1120790
+SHUFFLE	COMPRESS_BYTE_COUNT	1120794
+SHUFFLE	COPY_MAP_DATA	37779000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1104175
+SHUFFLE	COMPRESS_BYTE_COUNT	1104179
+SHUFFLE	COPY_MAP_DATA	89127000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1016758
+SHUFFLE	COMPRESS_BYTE_COUNT	1016762
+SHUFFLE	COPY_MAP_DATA	426420000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	937633
+SHUFFLE	COMPRESS_BYTE_COUNT	937637
+SHUFFLE	COPY_MAP_DATA	117524000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1237173
+SHUFFLE	COMPRESS_BYTE_COUNT	1237177
+SHUFFLE	COPY_MAP_DATA	60811000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1082365
+SHUFFLE	COMPRESS_BYTE_COUNT	1082369
+SHUFFLE	COPY_MAP_DATA	261168000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1113011
+SHUFFLE	COMPRESS_BYTE_COUNT	1113015
+SHUFFLE	COPY_MAP_DATA	45474000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1121328
+SHUFFLE	COMPRESS_BYTE_COUNT	1121332
+SHUFFLE	COPY_MAP_DATA	50562000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1116825
+SHUFFLE	COMPRESS_BYTE_COUNT	1116829
+SHUFFLE	COPY_MAP_DATA	17316000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1001790
+SHUFFLE	COMPRESS_BYTE_COUNT	1001794
+SHUFFLE	COPY_MAP_DATA	303120000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1105900
+SHUFFLE	COMPRESS_BYTE_COUNT	1105904
+SHUFFLE	COPY_MAP_DATA	34642000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1078419
+SHUFFLE	COMPRESS_BYTE_COUNT	1078423
+SHUFFLE	COPY_MAP_DATA	60035000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1092431
+SHUFFLE	COMPRESS_BYTE_COUNT	1092435
+SHUFFLE	COPY_MAP_DATA	22229000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	983332
+SHUFFLE	COMPRESS_BYTE_COUNT	983336
+SHUFFLE	COPY_MAP_DATA	354591000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1167801
+SHUFFLE	COMPRESS_BYTE_COUNT	1167805
+SHUFFLE	COPY_MAP_DATA	18498000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	795065
+SHUFFLE	COMPRESS_BYTE_COUNT	795069
+SHUFFLE	COPY_MAP_DATA	60623000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	791932
+SHUFFLE	COMPRESS_BYTE_COUNT	791936
+SHUFFLE	COPY_MAP_DATA	66609000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	749391
+SHUFFLE	COMPRESS_BYTE_COUNT	749395
+SHUFFLE	COPY_MAP_DATA	208658000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	778839
+SHUFFLE	COMPRESS_BYTE_COUNT	778843
+SHUFFLE	COPY_MAP_DATA	57632000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	743037
+SHUFFLE	COMPRESS_BYTE_COUNT	743041
+SHUFFLE	COPY_MAP_DATA	45033000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	773278
+SHUFFLE	COMPRESS_BYTE_COUNT	773282
+SHUFFLE	COPY_MAP_DATA	71657000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	753808
+SHUFFLE	COMPRESS_BYTE_COUNT	753812
+SHUFFLE	COPY_MAP_DATA	19156000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	846749
+SHUFFLE	COMPRESS_BYTE_COUNT	846753
+SHUFFLE	COPY_MAP_DATA	15672000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	846927
+SHUFFLE	COMPRESS_BYTE_COUNT	846931
+SHUFFLE	COPY_MAP_DATA	545064000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	835963
+SHUFFLE	COMPRESS_BYTE_COUNT	835967
+SHUFFLE	COPY_MAP_DATA	25638000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	741467
+SHUFFLE	COMPRESS_BYTE_COUNT	741471
+SHUFFLE	COPY_MAP_DATA	51239000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	755562
+SHUFFLE	COMPRESS_BYTE_COUNT	755566
+SHUFFLE	COPY_MAP_DATA	87158000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	745817
+SHUFFLE	COMPRESS_BYTE_COUNT	745821
+SHUFFLE	COPY_MAP_DATA	664504000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	763703
+SHUFFLE	COMPRESS_BYTE_COUNT	763707
+SHUFFLE	COPY_MAP_DATA	108960000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	768865
+SHUFFLE	COMPRESS_BYTE_COUNT	768869
+SHUFFLE	COPY_MAP_DATA	186268000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	753306
+SHUFFLE	COMPRESS_BYTE_COUNT	753310
+SHUFFLE	COPY_MAP_DATA	91079000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	743571
+SHUFFLE	COMPRESS_BYTE_COUNT	743575
+SHUFFLE	COPY_MAP_DATA	15677000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	712701
+SHUFFLE	COMPRESS_BYTE_COUNT	712705
+SHUFFLE	COPY_MAP_DATA	8156000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	708804
+SHUFFLE	COMPRESS_BYTE_COUNT	708808
+SHUFFLE	COPY_MAP_DATA	41624000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	769154
+SHUFFLE	COMPRESS_BYTE_COUNT	769158
+SHUFFLE	COPY_MAP_DATA	8158000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	743251
+SHUFFLE	COMPRESS_BYTE_COUNT	743255
+SHUFFLE	COPY_MAP_DATA	206795000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1107449
+SHUFFLE	COMPRESS_BYTE_COUNT	1107453
+SHUFFLE	COPY_MAP_DATA	45084000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1114921
+SHUFFLE	COMPRESS_BYTE_COUNT	1114925
+SHUFFLE	COPY_MAP_DATA	36907000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1098868
+SHUFFLE	COMPRESS_BYTE_COUNT	1098872
+SHUFFLE	COPY_MAP_DATA	49456000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	965403
+SHUFFLE	COMPRESS_BYTE_COUNT	965407
+SHUFFLE	COPY_MAP_DATA	53893000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	734444
+SHUFFLE	COMPRESS_BYTE_COUNT	734448
+SHUFFLE	COPY_MAP_DATA	532449000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1122677
+SHUFFLE	COMPRESS_BYTE_COUNT	1122681
+SHUFFLE	COPY_MAP_DATA	83102000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1148232
+SHUFFLE	COMPRESS_BYTE_COUNT	1148236
+SHUFFLE	COPY_MAP_DATA	52011000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1082565
+SHUFFLE	COMPRESS_BYTE_COUNT	1082569
+SHUFFLE	COPY_MAP_DATA	370274000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	308962
+SHUFFLE	COMPRESS_BYTE_COUNT	308966
+SHUFFLE	COPY_MAP_DATA	82087000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	731803
+SHUFFLE	COMPRESS_BYTE_COUNT	731807
+SHUFFLE	COPY_MAP_DATA	147057000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	750947
+SHUFFLE	COMPRESS_BYTE_COUNT	750951
+SHUFFLE	COPY_MAP_DATA	402021000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	240326
+SHUFFLE	COMPRESS_BYTE_COUNT	240330
+SHUFFLE	COPY_MAP_DATA	9034000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	659546
+SHUFFLE	COMPRESS_BYTE_COUNT	659550
+SHUFFLE	COPY_MAP_DATA	13177000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	960022
+SHUFFLE	COMPRESS_BYTE_COUNT	960026
+SHUFFLE	COPY_MAP_DATA	157648000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	569128
+SHUFFLE	COMPRESS_BYTE_COUNT	569132
+SHUFFLE	COPY_MAP_DATA	34372000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	732822
+SHUFFLE	COMPRESS_BYTE_COUNT	732826
+SHUFFLE	COPY_MAP_DATA	14420000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	463838
+SHUFFLE	COMPRESS_BYTE_COUNT	463842
+SHUFFLE	COPY_MAP_DATA	12275000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	350142
+SHUFFLE	COMPRESS_BYTE_COUNT	350146
+SHUFFLE	COPY_MAP_DATA	9748000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	653599
+SHUFFLE	COMPRESS_BYTE_COUNT	653603
+SHUFFLE	COPY_MAP_DATA	14479000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	401338
+SHUFFLE	COMPRESS_BYTE_COUNT	401342
+SHUFFLE	COPY_MAP_DATA	10429000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	704353
+SHUFFLE	COMPRESS_BYTE_COUNT	704357
+SHUFFLE	COPY_MAP_DATA	12259000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	700620
+SHUFFLE	COMPRESS_BYTE_COUNT	700624
+SHUFFLE	COPY_MAP_DATA	12786000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	717781
+SHUFFLE	COMPRESS_BYTE_COUNT	717785
+SHUFFLE	COPY_MAP_DATA	184819000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	753238
+SHUFFLE	COMPRESS_BYTE_COUNT	753242
+SHUFFLE	COPY_MAP_DATA	41804000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	138862
+SHUFFLE	COMPRESS_BYTE_COUNT	138866
+SHUFFLE	COPY_MAP_DATA	26938000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	184858
+SHUFFLE	COMPRESS_BYTE_COUNT	184862
+SHUFFLE	COPY_MAP_DATA	8604000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	723384
+SHUFFLE	COMPRESS_BYTE_COUNT	723388
+SHUFFLE	COPY_MAP_DATA	97501000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	214623
+SHUFFLE	COMPRESS_BYTE_COUNT	214627
+SHUFFLE	COPY_MAP_DATA	28257000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	633630
+SHUFFLE	COMPRESS_BYTE_COUNT	633634
+SHUFFLE	COPY_MAP_DATA	26130000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	511622
+SHUFFLE	COMPRESS_BYTE_COUNT	511626
+SHUFFLE	COPY_MAP_DATA	20729000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	310466
+SHUFFLE	COMPRESS_BYTE_COUNT	310470
+SHUFFLE	COPY_MAP_DATA	6511000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	205634
+SHUFFLE	COMPRESS_BYTE_COUNT	205638
+SHUFFLE	COPY_MAP_DATA	7558000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	219497
+SHUFFLE	COMPRESS_BYTE_COUNT	219501
+SHUFFLE	COPY_MAP_DATA	39114000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	646588
+SHUFFLE	COMPRESS_BYTE_COUNT	646592
+SHUFFLE	COPY_MAP_DATA	46112000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	169984
+SHUFFLE	COMPRESS_BYTE_COUNT	169988
+SHUFFLE	COPY_MAP_DATA	6448000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	483635
+SHUFFLE	COMPRESS_BYTE_COUNT	483639
+SHUFFLE	COPY_MAP_DATA	32302000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	505433
+SHUFFLE	COMPRESS_BYTE_COUNT	505437
+SHUFFLE	COPY_MAP_DATA	34366000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	646780
+SHUFFLE	COMPRESS_BYTE_COUNT	646784
+SHUFFLE	COPY_MAP_DATA	12859000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	711214
+SHUFFLE	COMPRESS_BYTE_COUNT	711218
+SHUFFLE	COPY_MAP_DATA	14997000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	529415
+SHUFFLE	COMPRESS_BYTE_COUNT	529419
+SHUFFLE	COPY_MAP_DATA	11148000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	445026
+SHUFFLE	COMPRESS_BYTE_COUNT	445030
+SHUFFLE	COPY_MAP_DATA	10921000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	742679
+SHUFFLE	COMPRESS_BYTE_COUNT	742683
+SHUFFLE	COPY_MAP_DATA	15646000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	636183
+SHUFFLE	COMPRESS_BYTE_COUNT	636187
+SHUFFLE	COPY_MAP_DATA	23714000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	694739
+SHUFFLE	COMPRESS_BYTE_COUNT	694743
+SHUFFLE	COPY_MAP_DATA	12904000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	788414
+SHUFFLE	COMPRESS_BYTE_COUNT	788418
+SHUFFLE	COPY_MAP_DATA	15275000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	405681
+SHUFFLE	COMPRESS_BYTE_COUNT	405685
+SHUFFLE	COPY_MAP_DATA	10732000
+SHUFFLE	UNCOMPRESS	0
+SORT	MERGE_MAP_DATA	10059364289
+SORT	READ_WRITE	9969744289
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	80835304
+REDUCE	SETUP	393000
+REDUCE	SETUP_MEM	80835304
+REDUCE	CLEANUP	37000
+REDUCE	CLEANUP_MEM	100611296
+REDUCE	TOTAL_RUN	18431067000
+REDUCE	READ	649987000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	10386718000
+REDUCE	WRITE	3135396000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	11659975
+REDUCE	VALUE_BYTE_COUNT	1194681
+REDUCE	REDUCE_MEM	100611296
+REDUCE	WRITE	8500000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	516636962584
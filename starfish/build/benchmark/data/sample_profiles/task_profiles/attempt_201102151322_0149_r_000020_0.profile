@@ -0,0 +1,410 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1105588
+SHUFFLE	COMPRESS_BYTE_COUNT	1105592
+SHUFFLE	COPY_MAP_DATA	120997000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	804332
+SHUFFLE	COMPRESS_BYTE_COUNT	804336
+SHUFFLE	COPY_MAP_DATA	186237000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1023902
+SHUFFLE	COMPRESS_BYTE_COUNT	1023906
+SHUFFLE	COPY_MAP_DATA	4670236000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1012951
+SHUFFLE	COMPRESS_BYTE_COUNT	1012955
+SHUFFLE	COPY_MAP_DATA	116659000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1043580
+SHUFFLE	COMPRESS_BYTE_COUNT	1043584
+SHUFFLE	COPY_MAP_DATA	15814000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1112324
+SHUFFLE	COMPRESS_BYTE_COUNT	1112328
+SHUFFLE	COPY_MAP_DATA	31668000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1081436
+SHUFFLE	COMPRESS_BYTE_COUNT	1081440
+SHUFFLE	COPY_MAP_DATA	108681000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1107455
+SHUFFLE	COMPRESS_BYTE_COUNT	1107459
+SHUFFLE	COPY_MAP_DATA	39124000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1158222
+SHUFFLE	COMPRESS_BYTE_COUNT	1158226
+SHUFFLE	COPY_MAP_DATA	140463000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1090149
+SHUFFLE	COMPRESS_BYTE_COUNT	1090153
+SHUFFLE	COPY_MAP_DATA	74860000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1131581
+SHUFFLE	COMPRESS_BYTE_COUNT	1131585
+SHUFFLE	COPY_MAP_DATA	1770270000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1074267
+SHUFFLE	COMPRESS_BYTE_COUNT	1074271
+SHUFFLE	COPY_MAP_DATA	18346000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1123047
+SHUFFLE	COMPRESS_BYTE_COUNT	1123051
+SHUFFLE	COPY_MAP_DATA	655714000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1145381
+SHUFFLE	COMPRESS_BYTE_COUNT	1145385
+SHUFFLE	COPY_MAP_DATA	48414000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1139213
+SHUFFLE	COMPRESS_BYTE_COUNT	1139217
+SHUFFLE	COPY_MAP_DATA	72691000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1128845
+SHUFFLE	COMPRESS_BYTE_COUNT	1128849
+SHUFFLE	COPY_MAP_DATA	76717000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	957679
+SHUFFLE	COMPRESS_BYTE_COUNT	957683
+SHUFFLE	COPY_MAP_DATA	15831000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1031515
+SHUFFLE	COMPRESS_BYTE_COUNT	1031519
+SHUFFLE	COPY_MAP_DATA	18304000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1115350
+SHUFFLE	COMPRESS_BYTE_COUNT	1115354
+SHUFFLE	COPY_MAP_DATA	910301000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1248818
+SHUFFLE	COMPRESS_BYTE_COUNT	1248822
+SHUFFLE	COPY_MAP_DATA	26956000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1099493
+SHUFFLE	COMPRESS_BYTE_COUNT	1099497
+SHUFFLE	COPY_MAP_DATA	159091000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1130303
+SHUFFLE	COMPRESS_BYTE_COUNT	1130307
+SHUFFLE	COPY_MAP_DATA	650144000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1140250
+SHUFFLE	COMPRESS_BYTE_COUNT	1140254
+SHUFFLE	COPY_MAP_DATA	105398000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1134666
+SHUFFLE	COMPRESS_BYTE_COUNT	1134670
+SHUFFLE	COPY_MAP_DATA	74846000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1112320
+SHUFFLE	COMPRESS_BYTE_COUNT	1112324
+SHUFFLE	COPY_MAP_DATA	199022000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1025091
+SHUFFLE	COMPRESS_BYTE_COUNT	1025095
+SHUFFLE	COPY_MAP_DATA	25958000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1094898
+SHUFFLE	COMPRESS_BYTE_COUNT	1094902
+SHUFFLE	COPY_MAP_DATA	71137000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1183196
+SHUFFLE	COMPRESS_BYTE_COUNT	1183200
+SHUFFLE	COPY_MAP_DATA	64470000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1105447
+SHUFFLE	COMPRESS_BYTE_COUNT	1105451
+SHUFFLE	COPY_MAP_DATA	613265000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1005872
+SHUFFLE	COMPRESS_BYTE_COUNT	1005876
+SHUFFLE	COPY_MAP_DATA	170976000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	803459
+SHUFFLE	COMPRESS_BYTE_COUNT	803463
+SHUFFLE	COPY_MAP_DATA	16983000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	796315
+SHUFFLE	COMPRESS_BYTE_COUNT	796319
+SHUFFLE	COPY_MAP_DATA	19455000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	762663
+SHUFFLE	COMPRESS_BYTE_COUNT	762667
+SHUFFLE	COPY_MAP_DATA	57095000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	789251
+SHUFFLE	COMPRESS_BYTE_COUNT	789255
+SHUFFLE	COPY_MAP_DATA	127548000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	756400
+SHUFFLE	COMPRESS_BYTE_COUNT	756404
+SHUFFLE	COPY_MAP_DATA	150268000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	788471
+SHUFFLE	COMPRESS_BYTE_COUNT	788475
+SHUFFLE	COPY_MAP_DATA	168404000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	764165
+SHUFFLE	COMPRESS_BYTE_COUNT	764169
+SHUFFLE	COPY_MAP_DATA	17318000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	854219
+SHUFFLE	COMPRESS_BYTE_COUNT	854223
+SHUFFLE	COPY_MAP_DATA	1039920000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	853207
+SHUFFLE	COMPRESS_BYTE_COUNT	853211
+SHUFFLE	COPY_MAP_DATA	4426501000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	851633
+SHUFFLE	COMPRESS_BYTE_COUNT	851637
+SHUFFLE	COPY_MAP_DATA	232260000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	754426
+SHUFFLE	COMPRESS_BYTE_COUNT	754430
+SHUFFLE	COPY_MAP_DATA	340486000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	765374
+SHUFFLE	COMPRESS_BYTE_COUNT	765378
+SHUFFLE	COPY_MAP_DATA	194374000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	781057
+SHUFFLE	COMPRESS_BYTE_COUNT	781061
+SHUFFLE	COPY_MAP_DATA	160031000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	756952
+SHUFFLE	COMPRESS_BYTE_COUNT	756956
+SHUFFLE	COPY_MAP_DATA	39020000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	778209
+SHUFFLE	COMPRESS_BYTE_COUNT	778213
+SHUFFLE	COPY_MAP_DATA	12643000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	750338
+SHUFFLE	COMPRESS_BYTE_COUNT	750342
+SHUFFLE	COPY_MAP_DATA	76125000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	761152
+SHUFFLE	COMPRESS_BYTE_COUNT	761156
+SHUFFLE	COPY_MAP_DATA	41429000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	721273
+SHUFFLE	COMPRESS_BYTE_COUNT	721277
+SHUFFLE	COPY_MAP_DATA	14866000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	785697
+SHUFFLE	COMPRESS_BYTE_COUNT	785701
+SHUFFLE	COPY_MAP_DATA	13340000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	715059
+SHUFFLE	COMPRESS_BYTE_COUNT	715063
+SHUFFLE	COPY_MAP_DATA	14279000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	751630
+SHUFFLE	COMPRESS_BYTE_COUNT	751634
+SHUFFLE	COPY_MAP_DATA	15168000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1131375
+SHUFFLE	COMPRESS_BYTE_COUNT	1131379
+SHUFFLE	COPY_MAP_DATA	1886282000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	980752
+SHUFFLE	COMPRESS_BYTE_COUNT	980756
+SHUFFLE	COPY_MAP_DATA	169751000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1123474
+SHUFFLE	COMPRESS_BYTE_COUNT	1123478
+SHUFFLE	COPY_MAP_DATA	144132000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1118917
+SHUFFLE	COMPRESS_BYTE_COUNT	1118921
+SHUFFLE	COPY_MAP_DATA	1231075000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	746844
+SHUFFLE	COMPRESS_BYTE_COUNT	746848
+SHUFFLE	COPY_MAP_DATA	854536000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1126037
+SHUFFLE	COMPRESS_BYTE_COUNT	1126041
+SHUFFLE	COPY_MAP_DATA	14174000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1097252
+SHUFFLE	COMPRESS_BYTE_COUNT	1097256
+SHUFFLE	COPY_MAP_DATA	4593127000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1163236
+SHUFFLE	COMPRESS_BYTE_COUNT	1163240
+SHUFFLE	COPY_MAP_DATA	126072000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	314916
+SHUFFLE	COMPRESS_BYTE_COUNT	314920
+SHUFFLE	COPY_MAP_DATA	13390000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	754144
+SHUFFLE	COMPRESS_BYTE_COUNT	754148
+SHUFFLE	COPY_MAP_DATA	34842000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	748668
+SHUFFLE	COMPRESS_BYTE_COUNT	748672
+SHUFFLE	COPY_MAP_DATA	40790000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	244937
+SHUFFLE	COMPRESS_BYTE_COUNT	244941
+SHUFFLE	COPY_MAP_DATA	9645000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	666270
+SHUFFLE	COMPRESS_BYTE_COUNT	666274
+SHUFFLE	COPY_MAP_DATA	120764000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	965862
+SHUFFLE	COMPRESS_BYTE_COUNT	965866
+SHUFFLE	COPY_MAP_DATA	22695000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	581242
+SHUFFLE	COMPRESS_BYTE_COUNT	581246
+SHUFFLE	COPY_MAP_DATA	6473000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	359900
+SHUFFLE	COMPRESS_BYTE_COUNT	359904
+SHUFFLE	COPY_MAP_DATA	10095000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	741183
+SHUFFLE	COMPRESS_BYTE_COUNT	741187
+SHUFFLE	COPY_MAP_DATA	65460000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	670432
+SHUFFLE	COMPRESS_BYTE_COUNT	670436
+SHUFFLE	COPY_MAP_DATA	16984000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	711947
+SHUFFLE	COMPRESS_BYTE_COUNT	711951
+SHUFFLE	COPY_MAP_DATA	167826000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	409780
+SHUFFLE	COMPRESS_BYTE_COUNT	409784
+SHUFFLE	COPY_MAP_DATA	11949000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	474403
+SHUFFLE	COMPRESS_BYTE_COUNT	474407
+SHUFFLE	COPY_MAP_DATA	317696000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	722045
+SHUFFLE	COMPRESS_BYTE_COUNT	722049
+SHUFFLE	COPY_MAP_DATA	318907000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	716182
+SHUFFLE	COMPRESS_BYTE_COUNT	716186
+SHUFFLE	COPY_MAP_DATA	256722000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	757330
+SHUFFLE	COMPRESS_BYTE_COUNT	757334
+SHUFFLE	COPY_MAP_DATA	35602000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	141347
+SHUFFLE	COMPRESS_BYTE_COUNT	141351
+SHUFFLE	COPY_MAP_DATA	3050000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	185498
+SHUFFLE	COMPRESS_BYTE_COUNT	185502
+SHUFFLE	COPY_MAP_DATA	8383000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	732392
+SHUFFLE	COMPRESS_BYTE_COUNT	732396
+SHUFFLE	COPY_MAP_DATA	33312000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	208472
+SHUFFLE	COMPRESS_BYTE_COUNT	208476
+SHUFFLE	COPY_MAP_DATA	7224000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	216869
+SHUFFLE	COMPRESS_BYTE_COUNT	216873
+SHUFFLE	COPY_MAP_DATA	18586000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	644267
+SHUFFLE	COMPRESS_BYTE_COUNT	644271
+SHUFFLE	COPY_MAP_DATA	16423000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	521421
+SHUFFLE	COMPRESS_BYTE_COUNT	521425
+SHUFFLE	COPY_MAP_DATA	11375000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	320929
+SHUFFLE	COMPRESS_BYTE_COUNT	320933
+SHUFFLE	COPY_MAP_DATA	5741000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	664004
+SHUFFLE	COMPRESS_BYTE_COUNT	664008
+SHUFFLE	COPY_MAP_DATA	51173000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	221905
+SHUFFLE	COMPRESS_BYTE_COUNT	221909
+SHUFFLE	COPY_MAP_DATA	47708000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	169568
+SHUFFLE	COMPRESS_BYTE_COUNT	169572
+SHUFFLE	COPY_MAP_DATA	7958000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	509224
+SHUFFLE	COMPRESS_BYTE_COUNT	509228
+SHUFFLE	COPY_MAP_DATA	31207000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	490355
+SHUFFLE	COMPRESS_BYTE_COUNT	490359
+SHUFFLE	COPY_MAP_DATA	114666000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	659306
+SHUFFLE	COMPRESS_BYTE_COUNT	659310
+SHUFFLE	COPY_MAP_DATA	13637000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	530854
+SHUFFLE	COMPRESS_BYTE_COUNT	530858
+SHUFFLE	COPY_MAP_DATA	1464143000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	729525
+SHUFFLE	COMPRESS_BYTE_COUNT	729529
+SHUFFLE	COPY_MAP_DATA	103881000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	644495
+SHUFFLE	COMPRESS_BYTE_COUNT	644499
+SHUFFLE	COPY_MAP_DATA	46549000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	445992
+SHUFFLE	COMPRESS_BYTE_COUNT	445996
+SHUFFLE	COPY_MAP_DATA	13285000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	702127
+SHUFFLE	COMPRESS_BYTE_COUNT	702131
+SHUFFLE	COPY_MAP_DATA	11591000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	756841
+SHUFFLE	COMPRESS_BYTE_COUNT	756845
+SHUFFLE	COPY_MAP_DATA	85496000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	795721
+SHUFFLE	COMPRESS_BYTE_COUNT	795725
+SHUFFLE	COPY_MAP_DATA	28789000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	410870
+SHUFFLE	COMPRESS_BYTE_COUNT	410874
+SHUFFLE	COPY_MAP_DATA	15518000
+SHUFFLE	UNCOMPRESS	0
+SORT	MERGE_MAP_DATA	9757880000
+SORT	READ_WRITE	9659164000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	100842720
+REDUCE	SETUP	338000
+REDUCE	SETUP_MEM	100842720
+REDUCE	CLEANUP	40000
+REDUCE	CLEANUP_MEM	75905400
+REDUCE	TOTAL_RUN	16158831000
+REDUCE	READ	907722000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	9663187000
+REDUCE	WRITE	2781055000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	11653309
+REDUCE	VALUE_BYTE_COUNT	1195662
+REDUCE	REDUCE_MEM	75905400
+REDUCE	WRITE	33686000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	509368228330
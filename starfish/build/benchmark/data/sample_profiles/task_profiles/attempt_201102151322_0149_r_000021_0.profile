@@ -0,0 +1,410 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	794998
+SHUFFLE	COMPRESS_BYTE_COUNT	795002
+SHUFFLE	COPY_MAP_DATA	241941000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1032168
+SHUFFLE	COMPRESS_BYTE_COUNT	1032172
+SHUFFLE	COPY_MAP_DATA	16287000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1090429
+SHUFFLE	COMPRESS_BYTE_COUNT	1090433
+SHUFFLE	COPY_MAP_DATA	17893000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1002692
+SHUFFLE	COMPRESS_BYTE_COUNT	1002696
+SHUFFLE	COPY_MAP_DATA	221544000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1025257
+SHUFFLE	COMPRESS_BYTE_COUNT	1025261
+SHUFFLE	COPY_MAP_DATA	12844641000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1062672
+SHUFFLE	COMPRESS_BYTE_COUNT	1062676
+SHUFFLE	COPY_MAP_DATA	183303000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1069092
+SHUFFLE	COMPRESS_BYTE_COUNT	1069096
+SHUFFLE	COPY_MAP_DATA	16587000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1111160
+SHUFFLE	COMPRESS_BYTE_COUNT	1111164
+SHUFFLE	COPY_MAP_DATA	144210000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1098013
+SHUFFLE	COMPRESS_BYTE_COUNT	1098017
+SHUFFLE	COPY_MAP_DATA	27375000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1080013
+SHUFFLE	COMPRESS_BYTE_COUNT	1080017
+SHUFFLE	COPY_MAP_DATA	19205000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1118326
+SHUFFLE	COMPRESS_BYTE_COUNT	1118330
+SHUFFLE	COPY_MAP_DATA	221529000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1123411
+SHUFFLE	COMPRESS_BYTE_COUNT	1123415
+SHUFFLE	COPY_MAP_DATA	196410000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1146512
+SHUFFLE	COMPRESS_BYTE_COUNT	1146516
+SHUFFLE	COPY_MAP_DATA	3244325000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1025396
+SHUFFLE	COMPRESS_BYTE_COUNT	1025400
+SHUFFLE	COPY_MAP_DATA	115014000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1128429
+SHUFFLE	COMPRESS_BYTE_COUNT	1128433
+SHUFFLE	COPY_MAP_DATA	233380000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1122201
+SHUFFLE	COMPRESS_BYTE_COUNT	1122205
+SHUFFLE	COPY_MAP_DATA	132085000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1145372
+SHUFFLE	COMPRESS_BYTE_COUNT	1145376
+SHUFFLE	COPY_MAP_DATA	153021000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	951997
+SHUFFLE	COMPRESS_BYTE_COUNT	952001
+SHUFFLE	COPY_MAP_DATA	136243000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1104473
+SHUFFLE	COMPRESS_BYTE_COUNT	1104477
+SHUFFLE	COPY_MAP_DATA	206685000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1237961
+SHUFFLE	COMPRESS_BYTE_COUNT	1237965
+SHUFFLE	COPY_MAP_DATA	34741000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1090722
+SHUFFLE	COMPRESS_BYTE_COUNT	1090726
+SHUFFLE	COPY_MAP_DATA	89159000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1116949
+SHUFFLE	COMPRESS_BYTE_COUNT	1116953
+SHUFFLE	COPY_MAP_DATA	126467000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1115342
+SHUFFLE	COMPRESS_BYTE_COUNT	1115346
+SHUFFLE	COPY_MAP_DATA	353069000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1127872
+SHUFFLE	COMPRESS_BYTE_COUNT	1127876
+SHUFFLE	COPY_MAP_DATA	19115000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1014841
+SHUFFLE	COMPRESS_BYTE_COUNT	1014845
+SHUFFLE	COPY_MAP_DATA	22223000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1117979
+SHUFFLE	COMPRESS_BYTE_COUNT	1117983
+SHUFFLE	COPY_MAP_DATA	100905000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1085375
+SHUFFLE	COMPRESS_BYTE_COUNT	1085379
+SHUFFLE	COPY_MAP_DATA	34867000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1172750
+SHUFFLE	COMPRESS_BYTE_COUNT	1172754
+SHUFFLE	COPY_MAP_DATA	21317000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1089343
+SHUFFLE	COMPRESS_BYTE_COUNT	1089347
+SHUFFLE	COPY_MAP_DATA	21743000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	987870
+SHUFFLE	COMPRESS_BYTE_COUNT	987874
+SHUFFLE	COPY_MAP_DATA	145706000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	796730
+SHUFFLE	COMPRESS_BYTE_COUNT	796734
+SHUFFLE	COPY_MAP_DATA	219452000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	797687
+SHUFFLE	COMPRESS_BYTE_COUNT	797691
+SHUFFLE	COPY_MAP_DATA	94102000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	753312
+SHUFFLE	COMPRESS_BYTE_COUNT	753316
+SHUFFLE	COPY_MAP_DATA	58281000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	780170
+SHUFFLE	COMPRESS_BYTE_COUNT	780174
+SHUFFLE	COPY_MAP_DATA	804255000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	784392
+SHUFFLE	COMPRESS_BYTE_COUNT	784396
+SHUFFLE	COPY_MAP_DATA	196889000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	753329
+SHUFFLE	COMPRESS_BYTE_COUNT	753333
+SHUFFLE	COPY_MAP_DATA	747593000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	758543
+SHUFFLE	COMPRESS_BYTE_COUNT	758547
+SHUFFLE	COPY_MAP_DATA	108936000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	851809
+SHUFFLE	COMPRESS_BYTE_COUNT	851813
+SHUFFLE	COPY_MAP_DATA	673695000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	848613
+SHUFFLE	COMPRESS_BYTE_COUNT	848617
+SHUFFLE	COPY_MAP_DATA	83052000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	844551
+SHUFFLE	COMPRESS_BYTE_COUNT	844555
+SHUFFLE	COPY_MAP_DATA	44862000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	741583
+SHUFFLE	COMPRESS_BYTE_COUNT	741587
+SHUFFLE	COPY_MAP_DATA	25209000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	752592
+SHUFFLE	COMPRESS_BYTE_COUNT	752596
+SHUFFLE	COPY_MAP_DATA	25859000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	747352
+SHUFFLE	COMPRESS_BYTE_COUNT	747356
+SHUFFLE	COPY_MAP_DATA	158950000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	773428
+SHUFFLE	COMPRESS_BYTE_COUNT	773432
+SHUFFLE	COPY_MAP_DATA	24488000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	775523
+SHUFFLE	COMPRESS_BYTE_COUNT	775527
+SHUFFLE	COPY_MAP_DATA	29950000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	752650
+SHUFFLE	COMPRESS_BYTE_COUNT	752654
+SHUFFLE	COPY_MAP_DATA	103207000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	740898
+SHUFFLE	COMPRESS_BYTE_COUNT	740902
+SHUFFLE	COPY_MAP_DATA	125257000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	716869
+SHUFFLE	COMPRESS_BYTE_COUNT	716873
+SHUFFLE	COPY_MAP_DATA	56625000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	710439
+SHUFFLE	COMPRESS_BYTE_COUNT	710443
+SHUFFLE	COPY_MAP_DATA	29246000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	771220
+SHUFFLE	COMPRESS_BYTE_COUNT	771224
+SHUFFLE	COPY_MAP_DATA	16711000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	749348
+SHUFFLE	COMPRESS_BYTE_COUNT	749352
+SHUFFLE	COPY_MAP_DATA	15630000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1114433
+SHUFFLE	COMPRESS_BYTE_COUNT	1114437
+SHUFFLE	COPY_MAP_DATA	59466000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	970159
+SHUFFLE	COMPRESS_BYTE_COUNT	970163
+SHUFFLE	COPY_MAP_DATA	17497000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1105747
+SHUFFLE	COMPRESS_BYTE_COUNT	1105751
+SHUFFLE	COPY_MAP_DATA	225333000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	734258
+SHUFFLE	COMPRESS_BYTE_COUNT	734262
+SHUFFLE	COPY_MAP_DATA	538466000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1119482
+SHUFFLE	COMPRESS_BYTE_COUNT	1119486
+SHUFFLE	COPY_MAP_DATA	22382000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1126938
+SHUFFLE	COMPRESS_BYTE_COUNT	1126942
+SHUFFLE	COPY_MAP_DATA	66011000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1090071
+SHUFFLE	COMPRESS_BYTE_COUNT	1090075
+SHUFFLE	COPY_MAP_DATA	136608000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1158915
+SHUFFLE	COMPRESS_BYTE_COUNT	1158919
+SHUFFLE	COPY_MAP_DATA	113819000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	313524
+SHUFFLE	COMPRESS_BYTE_COUNT	313528
+SHUFFLE	COPY_MAP_DATA	104103000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	243146
+SHUFFLE	COMPRESS_BYTE_COUNT	243150
+SHUFFLE	COPY_MAP_DATA	226227000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	759485
+SHUFFLE	COMPRESS_BYTE_COUNT	759489
+SHUFFLE	COPY_MAP_DATA	14918000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	737328
+SHUFFLE	COMPRESS_BYTE_COUNT	737332
+SHUFFLE	COPY_MAP_DATA	16866000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	961797
+SHUFFLE	COMPRESS_BYTE_COUNT	961801
+SHUFFLE	COPY_MAP_DATA	160971000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	661578
+SHUFFLE	COMPRESS_BYTE_COUNT	661582
+SHUFFLE	COPY_MAP_DATA	13630000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	573758
+SHUFFLE	COMPRESS_BYTE_COUNT	573762
+SHUFFLE	COPY_MAP_DATA	27743000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	350528
+SHUFFLE	COMPRESS_BYTE_COUNT	350532
+SHUFFLE	COPY_MAP_DATA	77942000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	733710
+SHUFFLE	COMPRESS_BYTE_COUNT	733714
+SHUFFLE	COPY_MAP_DATA	14967000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	406197
+SHUFFLE	COMPRESS_BYTE_COUNT	406201
+SHUFFLE	COPY_MAP_DATA	339681000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	464261
+SHUFFLE	COMPRESS_BYTE_COUNT	464265
+SHUFFLE	COPY_MAP_DATA	244512000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	662939
+SHUFFLE	COMPRESS_BYTE_COUNT	662943
+SHUFFLE	COPY_MAP_DATA	20067000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	709935
+SHUFFLE	COMPRESS_BYTE_COUNT	709939
+SHUFFLE	COPY_MAP_DATA	13786000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	702918
+SHUFFLE	COMPRESS_BYTE_COUNT	702922
+SHUFFLE	COPY_MAP_DATA	42268000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	714606
+SHUFFLE	COMPRESS_BYTE_COUNT	714610
+SHUFFLE	COPY_MAP_DATA	44557000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	755830
+SHUFFLE	COMPRESS_BYTE_COUNT	755834
+SHUFFLE	COPY_MAP_DATA	23187000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	139119
+SHUFFLE	COMPRESS_BYTE_COUNT	139123
+SHUFFLE	COPY_MAP_DATA	4853000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	512118
+SHUFFLE	COMPRESS_BYTE_COUNT	512122
+SHUFFLE	COPY_MAP_DATA	109487000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	215742
+SHUFFLE	COMPRESS_BYTE_COUNT	215746
+SHUFFLE	COPY_MAP_DATA	27729000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	728954
+SHUFFLE	COMPRESS_BYTE_COUNT	728958
+SHUFFLE	COPY_MAP_DATA	35030000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	185638
+SHUFFLE	COMPRESS_BYTE_COUNT	185642
+SHUFFLE	COPY_MAP_DATA	6854000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	635680
+SHUFFLE	COMPRESS_BYTE_COUNT	635684
+SHUFFLE	COPY_MAP_DATA	211705000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	311692
+SHUFFLE	COMPRESS_BYTE_COUNT	311696
+SHUFFLE	COPY_MAP_DATA	6671000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	207116
+SHUFFLE	COMPRESS_BYTE_COUNT	207120
+SHUFFLE	COPY_MAP_DATA	9046000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	659691
+SHUFFLE	COMPRESS_BYTE_COUNT	659695
+SHUFFLE	COPY_MAP_DATA	43398000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	168267
+SHUFFLE	COMPRESS_BYTE_COUNT	168271
+SHUFFLE	COPY_MAP_DATA	87869000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	506654
+SHUFFLE	COMPRESS_BYTE_COUNT	506658
+SHUFFLE	COPY_MAP_DATA	23410000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	216940
+SHUFFLE	COMPRESS_BYTE_COUNT	216944
+SHUFFLE	COPY_MAP_DATA	10911000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	486712
+SHUFFLE	COMPRESS_BYTE_COUNT	486716
+SHUFFLE	COPY_MAP_DATA	44508000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	650237
+SHUFFLE	COMPRESS_BYTE_COUNT	650241
+SHUFFLE	COPY_MAP_DATA	13996000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	531695
+SHUFFLE	COMPRESS_BYTE_COUNT	531699
+SHUFFLE	COPY_MAP_DATA	61806000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	717769
+SHUFFLE	COMPRESS_BYTE_COUNT	717773
+SHUFFLE	COPY_MAP_DATA	19376000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	698311
+SHUFFLE	COMPRESS_BYTE_COUNT	698315
+SHUFFLE	COPY_MAP_DATA	13676000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	446710
+SHUFFLE	COMPRESS_BYTE_COUNT	446714
+SHUFFLE	COPY_MAP_DATA	10505000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	643191
+SHUFFLE	COMPRESS_BYTE_COUNT	643195
+SHUFFLE	COPY_MAP_DATA	18569000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	736194
+SHUFFLE	COMPRESS_BYTE_COUNT	736198
+SHUFFLE	COPY_MAP_DATA	15176000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	407318
+SHUFFLE	COMPRESS_BYTE_COUNT	407322
+SHUFFLE	COPY_MAP_DATA	11399000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	796076
+SHUFFLE	COMPRESS_BYTE_COUNT	796080
+SHUFFLE	COPY_MAP_DATA	14969000
+SHUFFLE	UNCOMPRESS	0
+SORT	MERGE_MAP_DATA	9624274000
+SORT	READ_WRITE	9539136000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	96718408
+REDUCE	SETUP	352000
+REDUCE	SETUP_MEM	96718408
+REDUCE	CLEANUP	34000
+REDUCE	CLEANUP_MEM	105107336
+REDUCE	TOTAL_RUN	18652381230
+REDUCE	READ	739348000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	10588316230
+REDUCE	WRITE	3448540000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	11658098
+REDUCE	VALUE_BYTE_COUNT	1195388
+REDUCE	REDUCE_MEM	105107336
+REDUCE	WRITE	7173000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	514584920326
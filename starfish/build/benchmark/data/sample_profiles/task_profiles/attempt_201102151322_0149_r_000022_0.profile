@@ -0,0 +1,410 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1015666
+SHUFFLE	COMPRESS_BYTE_COUNT	1015670
+SHUFFLE	COPY_MAP_DATA	4184254656
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	792436
+SHUFFLE	COMPRESS_BYTE_COUNT	792440
+SHUFFLE	COPY_MAP_DATA	77688000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1075131
+SHUFFLE	COMPRESS_BYTE_COUNT	1075135
+SHUFFLE	COPY_MAP_DATA	22678000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1094434
+SHUFFLE	COMPRESS_BYTE_COUNT	1094438
+SHUFFLE	COPY_MAP_DATA	51641000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1035195
+SHUFFLE	COMPRESS_BYTE_COUNT	1035199
+SHUFFLE	COPY_MAP_DATA	53827000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1002951
+SHUFFLE	COMPRESS_BYTE_COUNT	1002955
+SHUFFLE	COPY_MAP_DATA	22668000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1098078
+SHUFFLE	COMPRESS_BYTE_COUNT	1098082
+SHUFFLE	COPY_MAP_DATA	778735000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1121831
+SHUFFLE	COMPRESS_BYTE_COUNT	1121835
+SHUFFLE	COPY_MAP_DATA	1379780000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1122970
+SHUFFLE	COMPRESS_BYTE_COUNT	1122974
+SHUFFLE	COPY_MAP_DATA	581671000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1148101
+SHUFFLE	COMPRESS_BYTE_COUNT	1148105
+SHUFFLE	COPY_MAP_DATA	49424000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1064566
+SHUFFLE	COMPRESS_BYTE_COUNT	1064570
+SHUFFLE	COPY_MAP_DATA	19579000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1112734
+SHUFFLE	COMPRESS_BYTE_COUNT	1112738
+SHUFFLE	COPY_MAP_DATA	320604000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1070435
+SHUFFLE	COMPRESS_BYTE_COUNT	1070439
+SHUFFLE	COPY_MAP_DATA	17204000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1128422
+SHUFFLE	COMPRESS_BYTE_COUNT	1128426
+SHUFFLE	COPY_MAP_DATA	246024000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1016341
+SHUFFLE	COMPRESS_BYTE_COUNT	1016345
+SHUFFLE	COPY_MAP_DATA	20507000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1130565
+SHUFFLE	COMPRESS_BYTE_COUNT	1130569
+SHUFFLE	COPY_MAP_DATA	176898000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1118523
+SHUFFLE	COMPRESS_BYTE_COUNT	1118527
+SHUFFLE	COPY_MAP_DATA	22075000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1109517
+SHUFFLE	COMPRESS_BYTE_COUNT	1109521
+SHUFFLE	COPY_MAP_DATA	90421000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	947857
+SHUFFLE	COMPRESS_BYTE_COUNT	947861
+SHUFFLE	COPY_MAP_DATA	145542000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1245410
+SHUFFLE	COMPRESS_BYTE_COUNT	1245414
+SHUFFLE	COPY_MAP_DATA	44518000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1090450
+SHUFFLE	COMPRESS_BYTE_COUNT	1090454
+SHUFFLE	COPY_MAP_DATA	560134000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1115000
+SHUFFLE	COMPRESS_BYTE_COUNT	1115004
+SHUFFLE	COPY_MAP_DATA	85091000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1123364
+SHUFFLE	COMPRESS_BYTE_COUNT	1123368
+SHUFFLE	COPY_MAP_DATA	635395000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1114495
+SHUFFLE	COMPRESS_BYTE_COUNT	1114499
+SHUFFLE	COPY_MAP_DATA	26833000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1009234
+SHUFFLE	COMPRESS_BYTE_COUNT	1009238
+SHUFFLE	COPY_MAP_DATA	66538000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1114417
+SHUFFLE	COMPRESS_BYTE_COUNT	1114421
+SHUFFLE	COPY_MAP_DATA	19299000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1087443
+SHUFFLE	COMPRESS_BYTE_COUNT	1087447
+SHUFFLE	COPY_MAP_DATA	194455000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1084206
+SHUFFLE	COMPRESS_BYTE_COUNT	1084210
+SHUFFLE	COPY_MAP_DATA	20130000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1180784
+SHUFFLE	COMPRESS_BYTE_COUNT	1180788
+SHUFFLE	COPY_MAP_DATA	196418000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	992885
+SHUFFLE	COMPRESS_BYTE_COUNT	992889
+SHUFFLE	COPY_MAP_DATA	53834000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	794870
+SHUFFLE	COMPRESS_BYTE_COUNT	794874
+SHUFFLE	COPY_MAP_DATA	360359000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	793118
+SHUFFLE	COMPRESS_BYTE_COUNT	793122
+SHUFFLE	COPY_MAP_DATA	64864000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	750342
+SHUFFLE	COMPRESS_BYTE_COUNT	750346
+SHUFFLE	COPY_MAP_DATA	331061000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	779268
+SHUFFLE	COMPRESS_BYTE_COUNT	779272
+SHUFFLE	COPY_MAP_DATA	248771000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	779133
+SHUFFLE	COMPRESS_BYTE_COUNT	779137
+SHUFFLE	COPY_MAP_DATA	1172920000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	744958
+SHUFFLE	COMPRESS_BYTE_COUNT	744962
+SHUFFLE	COPY_MAP_DATA	1169125000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	756710
+SHUFFLE	COMPRESS_BYTE_COUNT	756714
+SHUFFLE	COPY_MAP_DATA	23666000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	847821
+SHUFFLE	COMPRESS_BYTE_COUNT	847825
+SHUFFLE	COPY_MAP_DATA	152808000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	843690
+SHUFFLE	COMPRESS_BYTE_COUNT	843694
+SHUFFLE	COPY_MAP_DATA	897676000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	841388
+SHUFFLE	COMPRESS_BYTE_COUNT	841392
+SHUFFLE	COPY_MAP_DATA	60899000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	744887
+SHUFFLE	COMPRESS_BYTE_COUNT	744891
+SHUFFLE	COPY_MAP_DATA	966129000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	751978
+SHUFFLE	COMPRESS_BYTE_COUNT	751982
+SHUFFLE	COPY_MAP_DATA	30655000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	767758
+SHUFFLE	COMPRESS_BYTE_COUNT	767762
+SHUFFLE	COPY_MAP_DATA	53699000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	749294
+SHUFFLE	COMPRESS_BYTE_COUNT	749298
+SHUFFLE	COPY_MAP_DATA	72779000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	751196
+SHUFFLE	COMPRESS_BYTE_COUNT	751200
+SHUFFLE	COPY_MAP_DATA	15201000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	773565
+SHUFFLE	COMPRESS_BYTE_COUNT	773569
+SHUFFLE	COPY_MAP_DATA	48465000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	748189
+SHUFFLE	COMPRESS_BYTE_COUNT	748193
+SHUFFLE	COPY_MAP_DATA	1817010000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	707327
+SHUFFLE	COMPRESS_BYTE_COUNT	707331
+SHUFFLE	COPY_MAP_DATA	628886000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	712811
+SHUFFLE	COMPRESS_BYTE_COUNT	712815
+SHUFFLE	COPY_MAP_DATA	14958000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	766002
+SHUFFLE	COMPRESS_BYTE_COUNT	766006
+SHUFFLE	COPY_MAP_DATA	9263000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	743450
+SHUFFLE	COMPRESS_BYTE_COUNT	743454
+SHUFFLE	COPY_MAP_DATA	18866000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	965880
+SHUFFLE	COMPRESS_BYTE_COUNT	965884
+SHUFFLE	COPY_MAP_DATA	48137000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	732879
+SHUFFLE	COMPRESS_BYTE_COUNT	732883
+SHUFFLE	COPY_MAP_DATA	5263817000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1109180
+SHUFFLE	COMPRESS_BYTE_COUNT	1109184
+SHUFFLE	COPY_MAP_DATA	447169000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1121173
+SHUFFLE	COMPRESS_BYTE_COUNT	1121177
+SHUFFLE	COPY_MAP_DATA	300306000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1113628
+SHUFFLE	COMPRESS_BYTE_COUNT	1113632
+SHUFFLE	COPY_MAP_DATA	170476000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1118509
+SHUFFLE	COMPRESS_BYTE_COUNT	1118513
+SHUFFLE	COPY_MAP_DATA	13876000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1085573
+SHUFFLE	COMPRESS_BYTE_COUNT	1085577
+SHUFFLE	COPY_MAP_DATA	815692000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1152138
+SHUFFLE	COMPRESS_BYTE_COUNT	1152142
+SHUFFLE	COPY_MAP_DATA	124176000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	308810
+SHUFFLE	COMPRESS_BYTE_COUNT	308814
+SHUFFLE	COPY_MAP_DATA	63917000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	242794
+SHUFFLE	COMPRESS_BYTE_COUNT	242798
+SHUFFLE	COPY_MAP_DATA	9317000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	741654
+SHUFFLE	COMPRESS_BYTE_COUNT	741658
+SHUFFLE	COPY_MAP_DATA	17193000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	753392
+SHUFFLE	COMPRESS_BYTE_COUNT	753396
+SHUFFLE	COPY_MAP_DATA	136569000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	960217
+SHUFFLE	COMPRESS_BYTE_COUNT	960221
+SHUFFLE	COPY_MAP_DATA	227452000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	662021
+SHUFFLE	COMPRESS_BYTE_COUNT	662025
+SHUFFLE	COPY_MAP_DATA	16438000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	571440
+SHUFFLE	COMPRESS_BYTE_COUNT	571444
+SHUFFLE	COPY_MAP_DATA	7942716000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	354343
+SHUFFLE	COMPRESS_BYTE_COUNT	354347
+SHUFFLE	COPY_MAP_DATA	14252000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	730145
+SHUFFLE	COMPRESS_BYTE_COUNT	730149
+SHUFFLE	COPY_MAP_DATA	16591000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	468635
+SHUFFLE	COMPRESS_BYTE_COUNT	468639
+SHUFFLE	COPY_MAP_DATA	129245000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	407076
+SHUFFLE	COMPRESS_BYTE_COUNT	407080
+SHUFFLE	COPY_MAP_DATA	6027000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	664397
+SHUFFLE	COMPRESS_BYTE_COUNT	664401
+SHUFFLE	COPY_MAP_DATA	57157000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	699287
+SHUFFLE	COMPRESS_BYTE_COUNT	699291
+SHUFFLE	COPY_MAP_DATA	13855000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	719779
+SHUFFLE	COMPRESS_BYTE_COUNT	719783
+SHUFFLE	COPY_MAP_DATA	2723646000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	705912
+SHUFFLE	COMPRESS_BYTE_COUNT	705916
+SHUFFLE	COPY_MAP_DATA	84085000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	750230
+SHUFFLE	COMPRESS_BYTE_COUNT	750234
+SHUFFLE	COPY_MAP_DATA	166045000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	141024
+SHUFFLE	COMPRESS_BYTE_COUNT	141028
+SHUFFLE	COPY_MAP_DATA	7035000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	728382
+SHUFFLE	COMPRESS_BYTE_COUNT	728386
+SHUFFLE	COPY_MAP_DATA	300027000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	218340
+SHUFFLE	COMPRESS_BYTE_COUNT	218344
+SHUFFLE	COPY_MAP_DATA	1364579000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	512599
+SHUFFLE	COMPRESS_BYTE_COUNT	512603
+SHUFFLE	COPY_MAP_DATA	13223000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	184600
+SHUFFLE	COMPRESS_BYTE_COUNT	184604
+SHUFFLE	COPY_MAP_DATA	7545000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	635196
+SHUFFLE	COMPRESS_BYTE_COUNT	635200
+SHUFFLE	COPY_MAP_DATA	33035000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	206028
+SHUFFLE	COMPRESS_BYTE_COUNT	206032
+SHUFFLE	COPY_MAP_DATA	6757000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	315221
+SHUFFLE	COMPRESS_BYTE_COUNT	315225
+SHUFFLE	COPY_MAP_DATA	5848000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	656526
+SHUFFLE	COMPRESS_BYTE_COUNT	656530
+SHUFFLE	COPY_MAP_DATA	731697000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	506317
+SHUFFLE	COMPRESS_BYTE_COUNT	506321
+SHUFFLE	COPY_MAP_DATA	210438000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	167939
+SHUFFLE	COMPRESS_BYTE_COUNT	167943
+SHUFFLE	COPY_MAP_DATA	73213000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	219868
+SHUFFLE	COMPRESS_BYTE_COUNT	219872
+SHUFFLE	COPY_MAP_DATA	243580000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	487496
+SHUFFLE	COMPRESS_BYTE_COUNT	487500
+SHUFFLE	COPY_MAP_DATA	52714000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	650714
+SHUFFLE	COMPRESS_BYTE_COUNT	650718
+SHUFFLE	COPY_MAP_DATA	233961000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	713759
+SHUFFLE	COMPRESS_BYTE_COUNT	713763
+SHUFFLE	COPY_MAP_DATA	361167000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	526366
+SHUFFLE	COMPRESS_BYTE_COUNT	526370
+SHUFFLE	COPY_MAP_DATA	17370000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	444018
+SHUFFLE	COMPRESS_BYTE_COUNT	444022
+SHUFFLE	COPY_MAP_DATA	20786000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	639737
+SHUFFLE	COMPRESS_BYTE_COUNT	639741
+SHUFFLE	COPY_MAP_DATA	15439000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	745009
+SHUFFLE	COMPRESS_BYTE_COUNT	745013
+SHUFFLE	COPY_MAP_DATA	33085000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	693479
+SHUFFLE	COMPRESS_BYTE_COUNT	693483
+SHUFFLE	COPY_MAP_DATA	14502000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	403783
+SHUFFLE	COMPRESS_BYTE_COUNT	403787
+SHUFFLE	COPY_MAP_DATA	11950000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	788919
+SHUFFLE	COMPRESS_BYTE_COUNT	788923
+SHUFFLE	COPY_MAP_DATA	15087000
+SHUFFLE	UNCOMPRESS	0
+SORT	MERGE_MAP_DATA	9731208000
+SORT	READ_WRITE	9649742000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	106370136
+REDUCE	SETUP	265000
+REDUCE	SETUP_MEM	106370136
+REDUCE	CLEANUP	32000
+REDUCE	CLEANUP_MEM	90505992
+REDUCE	TOTAL_RUN	15455328000
+REDUCE	READ	774095000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	9161836000
+REDUCE	WRITE	2634986000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	11672900
+REDUCE	VALUE_BYTE_COUNT	1195833
+REDUCE	REDUCE_MEM	90508040
+REDUCE	WRITE	16245000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	512530776656
@@ -0,0 +1,410 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1001948
+SHUFFLE	COMPRESS_BYTE_COUNT	1001952
+SHUFFLE	COPY_MAP_DATA	507157000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1013157
+SHUFFLE	COMPRESS_BYTE_COUNT	1013161
+SHUFFLE	COPY_MAP_DATA	200572000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1087019
+SHUFFLE	COMPRESS_BYTE_COUNT	1087023
+SHUFFLE	COPY_MAP_DATA	188486000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	795399
+SHUFFLE	COMPRESS_BYTE_COUNT	795403
+SHUFFLE	COPY_MAP_DATA	62214000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1026534
+SHUFFLE	COMPRESS_BYTE_COUNT	1026538
+SHUFFLE	COPY_MAP_DATA	136861000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1102316
+SHUFFLE	COMPRESS_BYTE_COUNT	1102320
+SHUFFLE	COPY_MAP_DATA	39652000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1062203
+SHUFFLE	COMPRESS_BYTE_COUNT	1062207
+SHUFFLE	COPY_MAP_DATA	200725000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1137596
+SHUFFLE	COMPRESS_BYTE_COUNT	1137600
+SHUFFLE	COPY_MAP_DATA	4652211000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1099684
+SHUFFLE	COMPRESS_BYTE_COUNT	1099688
+SHUFFLE	COPY_MAP_DATA	180201000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1059216
+SHUFFLE	COMPRESS_BYTE_COUNT	1059220
+SHUFFLE	COPY_MAP_DATA	414639000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1074516
+SHUFFLE	COMPRESS_BYTE_COUNT	1074520
+SHUFFLE	COPY_MAP_DATA	290330000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1111863
+SHUFFLE	COMPRESS_BYTE_COUNT	1111867
+SHUFFLE	COPY_MAP_DATA	1439616000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1117906
+SHUFFLE	COMPRESS_BYTE_COUNT	1117910
+SHUFFLE	COPY_MAP_DATA	287597000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1134902
+SHUFFLE	COMPRESS_BYTE_COUNT	1134906
+SHUFFLE	COPY_MAP_DATA	36340000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1114668
+SHUFFLE	COMPRESS_BYTE_COUNT	1114672
+SHUFFLE	COPY_MAP_DATA	200446000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1006869
+SHUFFLE	COMPRESS_BYTE_COUNT	1006873
+SHUFFLE	COPY_MAP_DATA	223478000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1128460
+SHUFFLE	COMPRESS_BYTE_COUNT	1128464
+SHUFFLE	COPY_MAP_DATA	209867000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1096465
+SHUFFLE	COMPRESS_BYTE_COUNT	1096469
+SHUFFLE	COPY_MAP_DATA	50851000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	944360
+SHUFFLE	COMPRESS_BYTE_COUNT	944364
+SHUFFLE	COPY_MAP_DATA	19137000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1227926
+SHUFFLE	COMPRESS_BYTE_COUNT	1227930
+SHUFFLE	COPY_MAP_DATA	58766000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1084312
+SHUFFLE	COMPRESS_BYTE_COUNT	1084316
+SHUFFLE	COPY_MAP_DATA	31932000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1116819
+SHUFFLE	COMPRESS_BYTE_COUNT	1116823
+SHUFFLE	COPY_MAP_DATA	600123000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1116263
+SHUFFLE	COMPRESS_BYTE_COUNT	1116267
+SHUFFLE	COPY_MAP_DATA	111678000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1109690
+SHUFFLE	COMPRESS_BYTE_COUNT	1109694
+SHUFFLE	COPY_MAP_DATA	43092000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1006134
+SHUFFLE	COMPRESS_BYTE_COUNT	1006138
+SHUFFLE	COPY_MAP_DATA	118117000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1106370
+SHUFFLE	COMPRESS_BYTE_COUNT	1106374
+SHUFFLE	COPY_MAP_DATA	1056962000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1077397
+SHUFFLE	COMPRESS_BYTE_COUNT	1077401
+SHUFFLE	COPY_MAP_DATA	28185000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1088210
+SHUFFLE	COMPRESS_BYTE_COUNT	1088214
+SHUFFLE	COPY_MAP_DATA	15462000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1167583
+SHUFFLE	COMPRESS_BYTE_COUNT	1167587
+SHUFFLE	COPY_MAP_DATA	18328000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	991726
+SHUFFLE	COMPRESS_BYTE_COUNT	991730
+SHUFFLE	COPY_MAP_DATA	75438000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	787005
+SHUFFLE	COMPRESS_BYTE_COUNT	787009
+SHUFFLE	COPY_MAP_DATA	105674000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	786361
+SHUFFLE	COMPRESS_BYTE_COUNT	786365
+SHUFFLE	COPY_MAP_DATA	61600000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	748172
+SHUFFLE	COMPRESS_BYTE_COUNT	748176
+SHUFFLE	COPY_MAP_DATA	17032000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	776456
+SHUFFLE	COMPRESS_BYTE_COUNT	776460
+SHUFFLE	COPY_MAP_DATA	92532000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	746976
+SHUFFLE	COMPRESS_BYTE_COUNT	746980
+SHUFFLE	COPY_MAP_DATA	377764000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	775154
+SHUFFLE	COMPRESS_BYTE_COUNT	775158
+SHUFFLE	COPY_MAP_DATA	78413000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	751551
+SHUFFLE	COMPRESS_BYTE_COUNT	751555
+SHUFFLE	COPY_MAP_DATA	17544000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	844901
+SHUFFLE	COMPRESS_BYTE_COUNT	844905
+SHUFFLE	COPY_MAP_DATA	36236000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	840013
+SHUFFLE	COMPRESS_BYTE_COUNT	840017
+SHUFFLE	COPY_MAP_DATA	355387000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	736215
+SHUFFLE	COMPRESS_BYTE_COUNT	736219
+SHUFFLE	COPY_MAP_DATA	134299000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	839236
+SHUFFLE	COMPRESS_BYTE_COUNT	839240
+SHUFFLE	COPY_MAP_DATA	104706000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	751468
+SHUFFLE	COMPRESS_BYTE_COUNT	751472
+SHUFFLE	COPY_MAP_DATA	66008000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	772102
+SHUFFLE	COMPRESS_BYTE_COUNT	772106
+SHUFFLE	COPY_MAP_DATA	209309000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	741979
+SHUFFLE	COMPRESS_BYTE_COUNT	741983
+SHUFFLE	COPY_MAP_DATA	95650000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	767101
+SHUFFLE	COMPRESS_BYTE_COUNT	767105
+SHUFFLE	COPY_MAP_DATA	18053000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	745826
+SHUFFLE	COMPRESS_BYTE_COUNT	745830
+SHUFFLE	COPY_MAP_DATA	16358000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	738740
+SHUFFLE	COMPRESS_BYTE_COUNT	738744
+SHUFFLE	COPY_MAP_DATA	14470000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	709761
+SHUFFLE	COMPRESS_BYTE_COUNT	709765
+SHUFFLE	COPY_MAP_DATA	19191000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	769652
+SHUFFLE	COMPRESS_BYTE_COUNT	769656
+SHUFFLE	COPY_MAP_DATA	16641000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	702813
+SHUFFLE	COMPRESS_BYTE_COUNT	702817
+SHUFFLE	COPY_MAP_DATA	15984000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	747687
+SHUFFLE	COMPRESS_BYTE_COUNT	747691
+SHUFFLE	COPY_MAP_DATA	50663000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	961599
+SHUFFLE	COMPRESS_BYTE_COUNT	961603
+SHUFFLE	COPY_MAP_DATA	22927000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1112028
+SHUFFLE	COMPRESS_BYTE_COUNT	1112032
+SHUFFLE	COPY_MAP_DATA	32710000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	734168
+SHUFFLE	COMPRESS_BYTE_COUNT	734172
+SHUFFLE	COPY_MAP_DATA	677148000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1099801
+SHUFFLE	COMPRESS_BYTE_COUNT	1099805
+SHUFFLE	COPY_MAP_DATA	189819000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1101334
+SHUFFLE	COMPRESS_BYTE_COUNT	1101338
+SHUFFLE	COPY_MAP_DATA	394199000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1115082
+SHUFFLE	COMPRESS_BYTE_COUNT	1115086
+SHUFFLE	COPY_MAP_DATA	67643000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1087219
+SHUFFLE	COMPRESS_BYTE_COUNT	1087223
+SHUFFLE	COPY_MAP_DATA	19531000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1144944
+SHUFFLE	COMPRESS_BYTE_COUNT	1144948
+SHUFFLE	COPY_MAP_DATA	667645000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	309838
+SHUFFLE	COMPRESS_BYTE_COUNT	309842
+SHUFFLE	COPY_MAP_DATA	10827000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	736334
+SHUFFLE	COMPRESS_BYTE_COUNT	736338
+SHUFFLE	COPY_MAP_DATA	58292000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	746177
+SHUFFLE	COMPRESS_BYTE_COUNT	746181
+SHUFFLE	COPY_MAP_DATA	50385000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	239709
+SHUFFLE	COMPRESS_BYTE_COUNT	239713
+SHUFFLE	COPY_MAP_DATA	8616000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	655637
+SHUFFLE	COMPRESS_BYTE_COUNT	655641
+SHUFFLE	COPY_MAP_DATA	16201000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	948273
+SHUFFLE	COMPRESS_BYTE_COUNT	948277
+SHUFFLE	COPY_MAP_DATA	290012000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	572599
+SHUFFLE	COMPRESS_BYTE_COUNT	572603
+SHUFFLE	COPY_MAP_DATA	31334000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	351141
+SHUFFLE	COMPRESS_BYTE_COUNT	351145
+SHUFFLE	COPY_MAP_DATA	153404000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	728624
+SHUFFLE	COMPRESS_BYTE_COUNT	728628
+SHUFFLE	COPY_MAP_DATA	181240000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	463336
+SHUFFLE	COMPRESS_BYTE_COUNT	463340
+SHUFFLE	COPY_MAP_DATA	41616000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	400403
+SHUFFLE	COMPRESS_BYTE_COUNT	400407
+SHUFFLE	COPY_MAP_DATA	28821000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	700549
+SHUFFLE	COMPRESS_BYTE_COUNT	700553
+SHUFFLE	COPY_MAP_DATA	510519000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	657064
+SHUFFLE	COMPRESS_BYTE_COUNT	657068
+SHUFFLE	COPY_MAP_DATA	81104000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	704666
+SHUFFLE	COMPRESS_BYTE_COUNT	704670
+SHUFFLE	COPY_MAP_DATA	24059000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	716352
+SHUFFLE	COMPRESS_BYTE_COUNT	716356
+SHUFFLE	COPY_MAP_DATA	340035000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	749922
+SHUFFLE	COMPRESS_BYTE_COUNT	749926
+SHUFFLE	COPY_MAP_DATA	17208000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	137088
+SHUFFLE	COMPRESS_BYTE_COUNT	137092
+SHUFFLE	COPY_MAP_DATA	6517000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	725052
+SHUFFLE	COMPRESS_BYTE_COUNT	725056
+SHUFFLE	COPY_MAP_DATA	17134000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	515686
+SHUFFLE	COMPRESS_BYTE_COUNT	515690
+SHUFFLE	COPY_MAP_DATA	14554000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	631593
+SHUFFLE	COMPRESS_BYTE_COUNT	631597
+SHUFFLE	COPY_MAP_DATA	13828000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	215965
+SHUFFLE	COMPRESS_BYTE_COUNT	215969
+SHUFFLE	COPY_MAP_DATA	16210000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	181923
+SHUFFLE	COMPRESS_BYTE_COUNT	181927
+SHUFFLE	COPY_MAP_DATA	7256000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	315110
+SHUFFLE	COMPRESS_BYTE_COUNT	315114
+SHUFFLE	COPY_MAP_DATA	9916000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	205152
+SHUFFLE	COMPRESS_BYTE_COUNT	205156
+SHUFFLE	COPY_MAP_DATA	6756000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	651581
+SHUFFLE	COMPRESS_BYTE_COUNT	651585
+SHUFFLE	COPY_MAP_DATA	56035000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	219806
+SHUFFLE	COMPRESS_BYTE_COUNT	219810
+SHUFFLE	COPY_MAP_DATA	28139000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	168291
+SHUFFLE	COMPRESS_BYTE_COUNT	168295
+SHUFFLE	COPY_MAP_DATA	41803000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	500176
+SHUFFLE	COMPRESS_BYTE_COUNT	500180
+SHUFFLE	COPY_MAP_DATA	185055000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	485943
+SHUFFLE	COMPRESS_BYTE_COUNT	485947
+SHUFFLE	COPY_MAP_DATA	118493000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	647514
+SHUFFLE	COMPRESS_BYTE_COUNT	647518
+SHUFFLE	COPY_MAP_DATA	89907000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	528832
+SHUFFLE	COMPRESS_BYTE_COUNT	528836
+SHUFFLE	COPY_MAP_DATA	1233290000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	715550
+SHUFFLE	COMPRESS_BYTE_COUNT	715554
+SHUFFLE	COPY_MAP_DATA	20747000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	634626
+SHUFFLE	COMPRESS_BYTE_COUNT	634630
+SHUFFLE	COPY_MAP_DATA	126919000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	685489
+SHUFFLE	COMPRESS_BYTE_COUNT	685493
+SHUFFLE	COPY_MAP_DATA	90730000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	440586
+SHUFFLE	COMPRESS_BYTE_COUNT	440590
+SHUFFLE	COPY_MAP_DATA	137315000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	737440
+SHUFFLE	COMPRESS_BYTE_COUNT	737444
+SHUFFLE	COPY_MAP_DATA	144792000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	788005
+SHUFFLE	COMPRESS_BYTE_COUNT	788009
+SHUFFLE	COPY_MAP_DATA	24689000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	403196
+SHUFFLE	COMPRESS_BYTE_COUNT	403200
+SHUFFLE	COPY_MAP_DATA	5864000
+SHUFFLE	UNCOMPRESS	0
+SORT	MERGE_MAP_DATA	9734918000
+SORT	READ_WRITE	9640096000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	83915184
+REDUCE	SETUP	455000
+REDUCE	SETUP_MEM	83915184
+REDUCE	CLEANUP	53000
+REDUCE	CLEANUP_MEM	107023536
+REDUCE	TOTAL_RUN	19685999602
+REDUCE	READ	694234000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	10828280000
+REDUCE	WRITE	3217106000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	11685208
+REDUCE	VALUE_BYTE_COUNT	1194726
+REDUCE	REDUCE_MEM	107023536
+REDUCE	WRITE	28172000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	515127869415
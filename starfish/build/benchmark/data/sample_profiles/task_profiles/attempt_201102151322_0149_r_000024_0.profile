@@ -0,0 +1,410 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	789673
+SHUFFLE	COMPRESS_BYTE_COUNT	789677
+SHUFFLE	COPY_MAP_DATA	150698000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1025114
+SHUFFLE	COMPRESS_BYTE_COUNT	1025118
+SHUFFLE	COPY_MAP_DATA	321710000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1005189
+SHUFFLE	COMPRESS_BYTE_COUNT	1005193
+SHUFFLE	COPY_MAP_DATA	535984000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1044894
+SHUFFLE	COMPRESS_BYTE_COUNT	1044898
+SHUFFLE	COPY_MAP_DATA	84612000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1100501
+SHUFFLE	COMPRESS_BYTE_COUNT	1100505
+SHUFFLE	COPY_MAP_DATA	180384000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1064058
+SHUFFLE	COMPRESS_BYTE_COUNT	1064062
+SHUFFLE	COPY_MAP_DATA	43421000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1146528
+SHUFFLE	COMPRESS_BYTE_COUNT	1146532
+SHUFFLE	COPY_MAP_DATA	5167506000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1072612
+SHUFFLE	COMPRESS_BYTE_COUNT	1072616
+SHUFFLE	COPY_MAP_DATA	51779000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1116726
+SHUFFLE	COMPRESS_BYTE_COUNT	1116730
+SHUFFLE	COPY_MAP_DATA	85646000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1104264
+SHUFFLE	COMPRESS_BYTE_COUNT	1104268
+SHUFFLE	COPY_MAP_DATA	380279000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1077679
+SHUFFLE	COMPRESS_BYTE_COUNT	1077683
+SHUFFLE	COPY_MAP_DATA	252580000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1122938
+SHUFFLE	COMPRESS_BYTE_COUNT	1122942
+SHUFFLE	COPY_MAP_DATA	1726627000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1123882
+SHUFFLE	COMPRESS_BYTE_COUNT	1123886
+SHUFFLE	COPY_MAP_DATA	62553000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1136767
+SHUFFLE	COMPRESS_BYTE_COUNT	1136771
+SHUFFLE	COPY_MAP_DATA	28479000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1145186
+SHUFFLE	COMPRESS_BYTE_COUNT	1145190
+SHUFFLE	COPY_MAP_DATA	21880000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1121277
+SHUFFLE	COMPRESS_BYTE_COUNT	1121281
+SHUFFLE	COPY_MAP_DATA	195915000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	952929
+SHUFFLE	COMPRESS_BYTE_COUNT	952933
+SHUFFLE	COPY_MAP_DATA	467729000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1023254
+SHUFFLE	COMPRESS_BYTE_COUNT	1023258
+SHUFFLE	COPY_MAP_DATA	40437000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1109010
+SHUFFLE	COMPRESS_BYTE_COUNT	1109014
+SHUFFLE	COPY_MAP_DATA	295959000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1235473
+SHUFFLE	COMPRESS_BYTE_COUNT	1235477
+SHUFFLE	COPY_MAP_DATA	647862000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1088221
+SHUFFLE	COMPRESS_BYTE_COUNT	1088225
+SHUFFLE	COPY_MAP_DATA	206939000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1116879
+SHUFFLE	COMPRESS_BYTE_COUNT	1116883
+SHUFFLE	COPY_MAP_DATA	19265000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1119517
+SHUFFLE	COMPRESS_BYTE_COUNT	1119521
+SHUFFLE	COPY_MAP_DATA	63636000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1123134
+SHUFFLE	COMPRESS_BYTE_COUNT	1123138
+SHUFFLE	COPY_MAP_DATA	296711000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1015610
+SHUFFLE	COMPRESS_BYTE_COUNT	1015614
+SHUFFLE	COPY_MAP_DATA	15903000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1118625
+SHUFFLE	COMPRESS_BYTE_COUNT	1118629
+SHUFFLE	COPY_MAP_DATA	820988000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1090766
+SHUFFLE	COMPRESS_BYTE_COUNT	1090770
+SHUFFLE	COPY_MAP_DATA	20508000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1179026
+SHUFFLE	COMPRESS_BYTE_COUNT	1179030
+SHUFFLE	COPY_MAP_DATA	509436000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1097945
+SHUFFLE	COMPRESS_BYTE_COUNT	1097949
+SHUFFLE	COPY_MAP_DATA	55941000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	998100
+SHUFFLE	COMPRESS_BYTE_COUNT	998104
+SHUFFLE	COPY_MAP_DATA	72748000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	798679
+SHUFFLE	COMPRESS_BYTE_COUNT	798683
+SHUFFLE	COPY_MAP_DATA	44868000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	793867
+SHUFFLE	COMPRESS_BYTE_COUNT	793871
+SHUFFLE	COPY_MAP_DATA	54010000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	756099
+SHUFFLE	COMPRESS_BYTE_COUNT	756103
+SHUFFLE	COPY_MAP_DATA	60172000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	785504
+SHUFFLE	COMPRESS_BYTE_COUNT	785508
+SHUFFLE	COPY_MAP_DATA	369266000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	756018
+SHUFFLE	COMPRESS_BYTE_COUNT	756022
+SHUFFLE	COPY_MAP_DATA	36821000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	785179
+SHUFFLE	COMPRESS_BYTE_COUNT	785183
+SHUFFLE	COPY_MAP_DATA	642883000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	754952
+SHUFFLE	COMPRESS_BYTE_COUNT	754956
+SHUFFLE	COPY_MAP_DATA	25387000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	853033
+SHUFFLE	COMPRESS_BYTE_COUNT	853037
+SHUFFLE	COPY_MAP_DATA	15839000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	848226
+SHUFFLE	COMPRESS_BYTE_COUNT	848230
+SHUFFLE	COPY_MAP_DATA	378271000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	854616
+SHUFFLE	COMPRESS_BYTE_COUNT	854620
+SHUFFLE	COPY_MAP_DATA	866676000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	750332
+SHUFFLE	COMPRESS_BYTE_COUNT	750336
+SHUFFLE	COPY_MAP_DATA	113758000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	757780
+SHUFFLE	COMPRESS_BYTE_COUNT	757784
+SHUFFLE	COPY_MAP_DATA	117962000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	749466
+SHUFFLE	COMPRESS_BYTE_COUNT	749470
+SHUFFLE	COPY_MAP_DATA	51518000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	776177
+SHUFFLE	COMPRESS_BYTE_COUNT	776181
+SHUFFLE	COPY_MAP_DATA	15462000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	754836
+SHUFFLE	COMPRESS_BYTE_COUNT	754840
+SHUFFLE	COPY_MAP_DATA	20622000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	776770
+SHUFFLE	COMPRESS_BYTE_COUNT	776774
+SHUFFLE	COPY_MAP_DATA	31672000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	716425
+SHUFFLE	COMPRESS_BYTE_COUNT	716429
+SHUFFLE	COPY_MAP_DATA	21500000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	747413
+SHUFFLE	COMPRESS_BYTE_COUNT	747417
+SHUFFLE	COPY_MAP_DATA	17310000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	772706
+SHUFFLE	COMPRESS_BYTE_COUNT	772710
+SHUFFLE	COPY_MAP_DATA	204565000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	706981
+SHUFFLE	COMPRESS_BYTE_COUNT	706985
+SHUFFLE	COPY_MAP_DATA	22769000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	742785
+SHUFFLE	COMPRESS_BYTE_COUNT	742789
+SHUFFLE	COPY_MAP_DATA	41469000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	741100
+SHUFFLE	COMPRESS_BYTE_COUNT	741104
+SHUFFLE	COPY_MAP_DATA	25535000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1111858
+SHUFFLE	COMPRESS_BYTE_COUNT	1111862
+SHUFFLE	COPY_MAP_DATA	299733000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1110729
+SHUFFLE	COMPRESS_BYTE_COUNT	1110733
+SHUFFLE	COPY_MAP_DATA	77921000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	972096
+SHUFFLE	COMPRESS_BYTE_COUNT	972100
+SHUFFLE	COPY_MAP_DATA	16087000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1125230
+SHUFFLE	COMPRESS_BYTE_COUNT	1125234
+SHUFFLE	COPY_MAP_DATA	85384000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1125180
+SHUFFLE	COMPRESS_BYTE_COUNT	1125184
+SHUFFLE	COPY_MAP_DATA	27319000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1152858
+SHUFFLE	COMPRESS_BYTE_COUNT	1152862
+SHUFFLE	COPY_MAP_DATA	250988000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1091787
+SHUFFLE	COMPRESS_BYTE_COUNT	1091791
+SHUFFLE	COPY_MAP_DATA	37906000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	308122
+SHUFFLE	COMPRESS_BYTE_COUNT	308126
+SHUFFLE	COPY_MAP_DATA	13658000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	742428
+SHUFFLE	COMPRESS_BYTE_COUNT	742432
+SHUFFLE	COPY_MAP_DATA	15489000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	242233
+SHUFFLE	COMPRESS_BYTE_COUNT	242237
+SHUFFLE	COPY_MAP_DATA	9207000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	753492
+SHUFFLE	COMPRESS_BYTE_COUNT	753496
+SHUFFLE	COPY_MAP_DATA	13527000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	662406
+SHUFFLE	COMPRESS_BYTE_COUNT	662410
+SHUFFLE	COPY_MAP_DATA	36078000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	960555
+SHUFFLE	COMPRESS_BYTE_COUNT	960559
+SHUFFLE	COPY_MAP_DATA	1123156000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	578789
+SHUFFLE	COMPRESS_BYTE_COUNT	578793
+SHUFFLE	COPY_MAP_DATA	52172000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	355902
+SHUFFLE	COMPRESS_BYTE_COUNT	355906
+SHUFFLE	COPY_MAP_DATA	50992000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	734709
+SHUFFLE	COMPRESS_BYTE_COUNT	734713
+SHUFFLE	COPY_MAP_DATA	26653000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	472067
+SHUFFLE	COMPRESS_BYTE_COUNT	472071
+SHUFFLE	COPY_MAP_DATA	88204000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	707487
+SHUFFLE	COMPRESS_BYTE_COUNT	707491
+SHUFFLE	COPY_MAP_DATA	33856000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	667488
+SHUFFLE	COMPRESS_BYTE_COUNT	667492
+SHUFFLE	COPY_MAP_DATA	74236000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	409834
+SHUFFLE	COMPRESS_BYTE_COUNT	409838
+SHUFFLE	COPY_MAP_DATA	17358000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	717273
+SHUFFLE	COMPRESS_BYTE_COUNT	717277
+SHUFFLE	COPY_MAP_DATA	228624000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	712880
+SHUFFLE	COMPRESS_BYTE_COUNT	712884
+SHUFFLE	COPY_MAP_DATA	117144000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	755426
+SHUFFLE	COMPRESS_BYTE_COUNT	755430
+SHUFFLE	COPY_MAP_DATA	172882000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	138793
+SHUFFLE	COMPRESS_BYTE_COUNT	138797
+SHUFFLE	COPY_MAP_DATA	60441000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	185414
+SHUFFLE	COMPRESS_BYTE_COUNT	185418
+SHUFFLE	COPY_MAP_DATA	6772000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	731235
+SHUFFLE	COMPRESS_BYTE_COUNT	731239
+SHUFFLE	COPY_MAP_DATA	33766000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	207319
+SHUFFLE	COMPRESS_BYTE_COUNT	207323
+SHUFFLE	COPY_MAP_DATA	46940000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	639315
+SHUFFLE	COMPRESS_BYTE_COUNT	639319
+SHUFFLE	COPY_MAP_DATA	14062000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	516135
+SHUFFLE	COMPRESS_BYTE_COUNT	516139
+SHUFFLE	COPY_MAP_DATA	52066000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	219653
+SHUFFLE	COMPRESS_BYTE_COUNT	219657
+SHUFFLE	COPY_MAP_DATA	8851000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	320036
+SHUFFLE	COMPRESS_BYTE_COUNT	320040
+SHUFFLE	COPY_MAP_DATA	42227000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	664019
+SHUFFLE	COMPRESS_BYTE_COUNT	664023
+SHUFFLE	COPY_MAP_DATA	59326000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	167793
+SHUFFLE	COMPRESS_BYTE_COUNT	167797
+SHUFFLE	COPY_MAP_DATA	9419000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	224517
+SHUFFLE	COMPRESS_BYTE_COUNT	224521
+SHUFFLE	COPY_MAP_DATA	62322000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	504650
+SHUFFLE	COMPRESS_BYTE_COUNT	504654
+SHUFFLE	COPY_MAP_DATA	11657000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	487550
+SHUFFLE	COMPRESS_BYTE_COUNT	487554
+SHUFFLE	COPY_MAP_DATA	422614000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	652143
+SHUFFLE	COMPRESS_BYTE_COUNT	652147
+SHUFFLE	COPY_MAP_DATA	13307000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	529817
+SHUFFLE	COMPRESS_BYTE_COUNT	529821
+SHUFFLE	COPY_MAP_DATA	1025070000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	721718
+SHUFFLE	COMPRESS_BYTE_COUNT	721722
+SHUFFLE	COPY_MAP_DATA	89652000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	445483
+SHUFFLE	COMPRESS_BYTE_COUNT	445487
+SHUFFLE	COPY_MAP_DATA	36251000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	735376
+SHUFFLE	COMPRESS_BYTE_COUNT	735380
+SHUFFLE	COPY_MAP_DATA	43190000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	692761
+SHUFFLE	COMPRESS_BYTE_COUNT	692765
+SHUFFLE	COPY_MAP_DATA	81656000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	644960
+SHUFFLE	COMPRESS_BYTE_COUNT	644964
+SHUFFLE	COPY_MAP_DATA	63067000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	408679
+SHUFFLE	COMPRESS_BYTE_COUNT	408683
+SHUFFLE	COPY_MAP_DATA	23913000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	789757
+SHUFFLE	COMPRESS_BYTE_COUNT	789761
+SHUFFLE	COPY_MAP_DATA	15422000
+SHUFFLE	UNCOMPRESS	0
+SORT	MERGE_MAP_DATA	10432168000
+SORT	READ_WRITE	10362603000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	101895760
+REDUCE	SETUP	351000
+REDUCE	SETUP_MEM	101895760
+REDUCE	CLEANUP	37000
+REDUCE	CLEANUP_MEM	76984240
+REDUCE	TOTAL_RUN	19993895000
+REDUCE	READ	750306000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	10904429000
+REDUCE	WRITE	3179365000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	11658077
+REDUCE	VALUE_BYTE_COUNT	1194900
+REDUCE	REDUCE_MEM	76986288
+REDUCE	WRITE	8244000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	516097434217
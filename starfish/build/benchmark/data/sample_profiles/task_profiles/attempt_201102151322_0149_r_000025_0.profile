@@ -0,0 +1,410 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1003130
+SHUFFLE	COMPRESS_BYTE_COUNT	1003134
+SHUFFLE	COPY_MAP_DATA	259465000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1030694
+SHUFFLE	COMPRESS_BYTE_COUNT	1030698
+SHUFFLE	COPY_MAP_DATA	869535000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1089833
+SHUFFLE	COMPRESS_BYTE_COUNT	1089837
+SHUFFLE	COPY_MAP_DATA	63123000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1015342
+SHUFFLE	COMPRESS_BYTE_COUNT	1015346
+SHUFFLE	COPY_MAP_DATA	3957273000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	793636
+SHUFFLE	COMPRESS_BYTE_COUNT	793640
+SHUFFLE	COPY_MAP_DATA	17892000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1077703
+SHUFFLE	COMPRESS_BYTE_COUNT	1077707
+SHUFFLE	COPY_MAP_DATA	3043665000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1091450
+SHUFFLE	COMPRESS_BYTE_COUNT	1091454
+SHUFFLE	COPY_MAP_DATA	53825000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1065157
+SHUFFLE	COMPRESS_BYTE_COUNT	1065161
+SHUFFLE	COPY_MAP_DATA	30335000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1107456
+SHUFFLE	COMPRESS_BYTE_COUNT	1107460
+SHUFFLE	COPY_MAP_DATA	99599000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1151375
+SHUFFLE	COMPRESS_BYTE_COUNT	1151379
+SHUFFLE	COPY_MAP_DATA	50580000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1062158
+SHUFFLE	COMPRESS_BYTE_COUNT	1062162
+SHUFFLE	COPY_MAP_DATA	49796000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1113692
+SHUFFLE	COMPRESS_BYTE_COUNT	1113696
+SHUFFLE	COPY_MAP_DATA	404214000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1119072
+SHUFFLE	COMPRESS_BYTE_COUNT	1119076
+SHUFFLE	COPY_MAP_DATA	31871000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1111443
+SHUFFLE	COMPRESS_BYTE_COUNT	1111447
+SHUFFLE	COPY_MAP_DATA	14397000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1137221
+SHUFFLE	COMPRESS_BYTE_COUNT	1137225
+SHUFFLE	COPY_MAP_DATA	21653000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1018219
+SHUFFLE	COMPRESS_BYTE_COUNT	1018223
+SHUFFLE	COPY_MAP_DATA	28192000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1136147
+SHUFFLE	COMPRESS_BYTE_COUNT	1136151
+SHUFFLE	COPY_MAP_DATA	218055000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1108968
+SHUFFLE	COMPRESS_BYTE_COUNT	1108972
+SHUFFLE	COPY_MAP_DATA	21842000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	943852
+SHUFFLE	COMPRESS_BYTE_COUNT	943856
+SHUFFLE	COPY_MAP_DATA	16741000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1235445
+SHUFFLE	COMPRESS_BYTE_COUNT	1235449
+SHUFFLE	COPY_MAP_DATA	1422056000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1084062
+SHUFFLE	COMPRESS_BYTE_COUNT	1084066
+SHUFFLE	COPY_MAP_DATA	81933000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1112413
+SHUFFLE	COMPRESS_BYTE_COUNT	1112417
+SHUFFLE	COPY_MAP_DATA	83749000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1119812
+SHUFFLE	COMPRESS_BYTE_COUNT	1119816
+SHUFFLE	COPY_MAP_DATA	20407000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1113090
+SHUFFLE	COMPRESS_BYTE_COUNT	1113094
+SHUFFLE	COPY_MAP_DATA	20462000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1118823
+SHUFFLE	COMPRESS_BYTE_COUNT	1118827
+SHUFFLE	COPY_MAP_DATA	332808000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1086780
+SHUFFLE	COMPRESS_BYTE_COUNT	1086784
+SHUFFLE	COPY_MAP_DATA	814081000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1005556
+SHUFFLE	COMPRESS_BYTE_COUNT	1005560
+SHUFFLE	COPY_MAP_DATA	111083000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1091836
+SHUFFLE	COMPRESS_BYTE_COUNT	1091840
+SHUFFLE	COPY_MAP_DATA	4545163000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1172440
+SHUFFLE	COMPRESS_BYTE_COUNT	1172444
+SHUFFLE	COPY_MAP_DATA	54578000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	996106
+SHUFFLE	COMPRESS_BYTE_COUNT	996110
+SHUFFLE	COPY_MAP_DATA	57901000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	796650
+SHUFFLE	COMPRESS_BYTE_COUNT	796654
+SHUFFLE	COPY_MAP_DATA	947144000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	794853
+SHUFFLE	COMPRESS_BYTE_COUNT	794857
+SHUFFLE	COPY_MAP_DATA	675758000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	756736
+SHUFFLE	COMPRESS_BYTE_COUNT	756740
+SHUFFLE	COPY_MAP_DATA	286571000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	779596
+SHUFFLE	COMPRESS_BYTE_COUNT	779600
+SHUFFLE	COPY_MAP_DATA	21571000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	777294
+SHUFFLE	COMPRESS_BYTE_COUNT	777298
+SHUFFLE	COPY_MAP_DATA	84443000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	744534
+SHUFFLE	COMPRESS_BYTE_COUNT	744538
+SHUFFLE	COPY_MAP_DATA	8885000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	754545
+SHUFFLE	COMPRESS_BYTE_COUNT	754549
+SHUFFLE	COPY_MAP_DATA	17547000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	853170
+SHUFFLE	COMPRESS_BYTE_COUNT	853174
+SHUFFLE	COPY_MAP_DATA	292042000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	843107
+SHUFFLE	COMPRESS_BYTE_COUNT	843111
+SHUFFLE	COPY_MAP_DATA	807879000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	743495
+SHUFFLE	COMPRESS_BYTE_COUNT	743499
+SHUFFLE	COPY_MAP_DATA	34098000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	842609
+SHUFFLE	COMPRESS_BYTE_COUNT	842613
+SHUFFLE	COPY_MAP_DATA	96216000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	756734
+SHUFFLE	COMPRESS_BYTE_COUNT	756738
+SHUFFLE	COPY_MAP_DATA	18553000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	771239
+SHUFFLE	COMPRESS_BYTE_COUNT	771243
+SHUFFLE	COPY_MAP_DATA	69934000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	771875
+SHUFFLE	COMPRESS_BYTE_COUNT	771879
+SHUFFLE	COPY_MAP_DATA	15592000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	746767
+SHUFFLE	COMPRESS_BYTE_COUNT	746771
+SHUFFLE	COPY_MAP_DATA	37668000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	753070
+SHUFFLE	COMPRESS_BYTE_COUNT	753074
+SHUFFLE	COPY_MAP_DATA	351539000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	740405
+SHUFFLE	COMPRESS_BYTE_COUNT	740409
+SHUFFLE	COPY_MAP_DATA	15697000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	718048
+SHUFFLE	COMPRESS_BYTE_COUNT	718052
+SHUFFLE	COPY_MAP_DATA	13863000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	708062
+SHUFFLE	COMPRESS_BYTE_COUNT	708066
+SHUFFLE	COPY_MAP_DATA	13964000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	773313
+SHUFFLE	COMPRESS_BYTE_COUNT	773317
+SHUFFLE	COPY_MAP_DATA	18134000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	741244
+SHUFFLE	COMPRESS_BYTE_COUNT	741248
+SHUFFLE	COPY_MAP_DATA	62310000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1100226
+SHUFFLE	COMPRESS_BYTE_COUNT	1100230
+SHUFFLE	COPY_MAP_DATA	468628000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1121011
+SHUFFLE	COMPRESS_BYTE_COUNT	1121015
+SHUFFLE	COPY_MAP_DATA	23006000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	970491
+SHUFFLE	COMPRESS_BYTE_COUNT	970495
+SHUFFLE	COPY_MAP_DATA	14803000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1110505
+SHUFFLE	COMPRESS_BYTE_COUNT	1110509
+SHUFFLE	COPY_MAP_DATA	65297000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	737446
+SHUFFLE	COMPRESS_BYTE_COUNT	737450
+SHUFFLE	COPY_MAP_DATA	14609000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1121518
+SHUFFLE	COMPRESS_BYTE_COUNT	1121522
+SHUFFLE	COPY_MAP_DATA	12773000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1146621
+SHUFFLE	COMPRESS_BYTE_COUNT	1146625
+SHUFFLE	COPY_MAP_DATA	27346000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1085909
+SHUFFLE	COMPRESS_BYTE_COUNT	1085913
+SHUFFLE	COPY_MAP_DATA	16134000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	307806
+SHUFFLE	COMPRESS_BYTE_COUNT	307810
+SHUFFLE	COPY_MAP_DATA	84644000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	241591
+SHUFFLE	COMPRESS_BYTE_COUNT	241595
+SHUFFLE	COPY_MAP_DATA	757691000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	742308
+SHUFFLE	COMPRESS_BYTE_COUNT	742312
+SHUFFLE	COPY_MAP_DATA	3690910000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	752524
+SHUFFLE	COMPRESS_BYTE_COUNT	752528
+SHUFFLE	COPY_MAP_DATA	8040000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	663163
+SHUFFLE	COMPRESS_BYTE_COUNT	663167
+SHUFFLE	COPY_MAP_DATA	24502000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	963581
+SHUFFLE	COMPRESS_BYTE_COUNT	963585
+SHUFFLE	COPY_MAP_DATA	33881000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	576644
+SHUFFLE	COMPRESS_BYTE_COUNT	576648
+SHUFFLE	COPY_MAP_DATA	39003000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	353919
+SHUFFLE	COMPRESS_BYTE_COUNT	353923
+SHUFFLE	COPY_MAP_DATA	120141000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	669050
+SHUFFLE	COMPRESS_BYTE_COUNT	669054
+SHUFFLE	COPY_MAP_DATA	14290000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	733640
+SHUFFLE	COMPRESS_BYTE_COUNT	733644
+SHUFFLE	COPY_MAP_DATA	19597000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	404490
+SHUFFLE	COMPRESS_BYTE_COUNT	404494
+SHUFFLE	COPY_MAP_DATA	9565000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	470115
+SHUFFLE	COMPRESS_BYTE_COUNT	470119
+SHUFFLE	COPY_MAP_DATA	9734000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	705127
+SHUFFLE	COMPRESS_BYTE_COUNT	705131
+SHUFFLE	COPY_MAP_DATA	15483000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	715361
+SHUFFLE	COMPRESS_BYTE_COUNT	715365
+SHUFFLE	COPY_MAP_DATA	1004326000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	710924
+SHUFFLE	COMPRESS_BYTE_COUNT	710928
+SHUFFLE	COPY_MAP_DATA	14771000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	756602
+SHUFFLE	COMPRESS_BYTE_COUNT	756606
+SHUFFLE	COPY_MAP_DATA	112336000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	139518
+SHUFFLE	COMPRESS_BYTE_COUNT	139522
+SHUFFLE	COPY_MAP_DATA	160348000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	184247
+SHUFFLE	COMPRESS_BYTE_COUNT	184251
+SHUFFLE	COPY_MAP_DATA	7057000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	732978
+SHUFFLE	COMPRESS_BYTE_COUNT	732982
+SHUFFLE	COPY_MAP_DATA	34110000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	638459
+SHUFFLE	COMPRESS_BYTE_COUNT	638463
+SHUFFLE	COPY_MAP_DATA	11531000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	515546
+SHUFFLE	COMPRESS_BYTE_COUNT	515550
+SHUFFLE	COPY_MAP_DATA	15737000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	217271
+SHUFFLE	COMPRESS_BYTE_COUNT	217275
+SHUFFLE	COPY_MAP_DATA	9327000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	202680
+SHUFFLE	COMPRESS_BYTE_COUNT	202684
+SHUFFLE	COPY_MAP_DATA	3952000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	314180
+SHUFFLE	COMPRESS_BYTE_COUNT	314184
+SHUFFLE	COPY_MAP_DATA	9225000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	218510
+SHUFFLE	COMPRESS_BYTE_COUNT	218514
+SHUFFLE	COPY_MAP_DATA	41444000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	654573
+SHUFFLE	COMPRESS_BYTE_COUNT	654577
+SHUFFLE	COPY_MAP_DATA	13428000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	506590
+SHUFFLE	COMPRESS_BYTE_COUNT	506594
+SHUFFLE	COPY_MAP_DATA	11820000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	169376
+SHUFFLE	COMPRESS_BYTE_COUNT	169380
+SHUFFLE	COPY_MAP_DATA	7423000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	482664
+SHUFFLE	COMPRESS_BYTE_COUNT	482668
+SHUFFLE	COPY_MAP_DATA	11336000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	651104
+SHUFFLE	COMPRESS_BYTE_COUNT	651108
+SHUFFLE	COPY_MAP_DATA	12736000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	526580
+SHUFFLE	COMPRESS_BYTE_COUNT	526584
+SHUFFLE	COPY_MAP_DATA	25385000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	718462
+SHUFFLE	COMPRESS_BYTE_COUNT	718466
+SHUFFLE	COPY_MAP_DATA	17237000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	444352
+SHUFFLE	COMPRESS_BYTE_COUNT	444356
+SHUFFLE	COPY_MAP_DATA	11532000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	698743
+SHUFFLE	COMPRESS_BYTE_COUNT	698747
+SHUFFLE	COPY_MAP_DATA	54681000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	746957
+SHUFFLE	COMPRESS_BYTE_COUNT	746961
+SHUFFLE	COPY_MAP_DATA	16751000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	642563
+SHUFFLE	COMPRESS_BYTE_COUNT	642567
+SHUFFLE	COPY_MAP_DATA	41728000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	406642
+SHUFFLE	COMPRESS_BYTE_COUNT	406646
+SHUFFLE	COPY_MAP_DATA	14717000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	788866
+SHUFFLE	COMPRESS_BYTE_COUNT	788870
+SHUFFLE	COPY_MAP_DATA	14171000
+SHUFFLE	UNCOMPRESS	0
+SORT	MERGE_MAP_DATA	9445540000
+SORT	READ_WRITE	9379065000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	106461232
+REDUCE	SETUP	352000
+REDUCE	SETUP_MEM	106461232
+REDUCE	CLEANUP	36000
+REDUCE	CLEANUP_MEM	74761120
+REDUCE	TOTAL_RUN	16452034000
+REDUCE	READ	836391000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	9756242000
+REDUCE	WRITE	2731196000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	11646978
+REDUCE	VALUE_BYTE_COUNT	1192781
+REDUCE	REDUCE_MEM	74761120
+REDUCE	WRITE	37821000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	508777236000
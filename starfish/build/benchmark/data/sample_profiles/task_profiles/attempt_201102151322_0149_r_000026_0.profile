@@ -0,0 +1,410 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1019344
+SHUFFLE	COMPRESS_BYTE_COUNT	1019348
+SHUFFLE	COPY_MAP_DATA	3705132000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1036916
+SHUFFLE	COMPRESS_BYTE_COUNT	1036920
+SHUFFLE	COPY_MAP_DATA	247969000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	799096
+SHUFFLE	COMPRESS_BYTE_COUNT	799100
+SHUFFLE	COPY_MAP_DATA	14575000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1091185
+SHUFFLE	COMPRESS_BYTE_COUNT	1091189
+SHUFFLE	COPY_MAP_DATA	19329000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1098219
+SHUFFLE	COMPRESS_BYTE_COUNT	1098223
+SHUFFLE	COPY_MAP_DATA	54228000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1099895
+SHUFFLE	COMPRESS_BYTE_COUNT	1099899
+SHUFFLE	COPY_MAP_DATA	90267000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1003160
+SHUFFLE	COMPRESS_BYTE_COUNT	1003164
+SHUFFLE	COPY_MAP_DATA	115441000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1118250
+SHUFFLE	COMPRESS_BYTE_COUNT	1118254
+SHUFFLE	COPY_MAP_DATA	22940000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1116895
+SHUFFLE	COMPRESS_BYTE_COUNT	1116899
+SHUFFLE	COPY_MAP_DATA	48223000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1078173
+SHUFFLE	COMPRESS_BYTE_COUNT	1078177
+SHUFFLE	COPY_MAP_DATA	677891000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1156444
+SHUFFLE	COMPRESS_BYTE_COUNT	1156448
+SHUFFLE	COPY_MAP_DATA	17887000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1121338
+SHUFFLE	COMPRESS_BYTE_COUNT	1121342
+SHUFFLE	COPY_MAP_DATA	1823880000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1073058
+SHUFFLE	COMPRESS_BYTE_COUNT	1073062
+SHUFFLE	COPY_MAP_DATA	105306000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1123863
+SHUFFLE	COMPRESS_BYTE_COUNT	1123867
+SHUFFLE	COPY_MAP_DATA	93772000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1149506
+SHUFFLE	COMPRESS_BYTE_COUNT	1149510
+SHUFFLE	COPY_MAP_DATA	279677000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1140252
+SHUFFLE	COMPRESS_BYTE_COUNT	1140256
+SHUFFLE	COPY_MAP_DATA	149093000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1021433
+SHUFFLE	COMPRESS_BYTE_COUNT	1021437
+SHUFFLE	COPY_MAP_DATA	71458000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1112943
+SHUFFLE	COMPRESS_BYTE_COUNT	1112947
+SHUFFLE	COPY_MAP_DATA	160612000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	945881
+SHUFFLE	COMPRESS_BYTE_COUNT	945885
+SHUFFLE	COPY_MAP_DATA	28631000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1245298
+SHUFFLE	COMPRESS_BYTE_COUNT	1245302
+SHUFFLE	COPY_MAP_DATA	27491000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1092026
+SHUFFLE	COMPRESS_BYTE_COUNT	1092030
+SHUFFLE	COPY_MAP_DATA	19123000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1122825
+SHUFFLE	COMPRESS_BYTE_COUNT	1122829
+SHUFFLE	COPY_MAP_DATA	259134000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1128026
+SHUFFLE	COMPRESS_BYTE_COUNT	1128030
+SHUFFLE	COPY_MAP_DATA	1363538000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1120181
+SHUFFLE	COMPRESS_BYTE_COUNT	1120185
+SHUFFLE	COPY_MAP_DATA	61617000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1119217
+SHUFFLE	COMPRESS_BYTE_COUNT	1119221
+SHUFFLE	COPY_MAP_DATA	99536000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1010419
+SHUFFLE	COMPRESS_BYTE_COUNT	1010423
+SHUFFLE	COPY_MAP_DATA	19869000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1086068
+SHUFFLE	COMPRESS_BYTE_COUNT	1086072
+SHUFFLE	COPY_MAP_DATA	132650000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1093352
+SHUFFLE	COMPRESS_BYTE_COUNT	1093356
+SHUFFLE	COPY_MAP_DATA	19007000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1179120
+SHUFFLE	COMPRESS_BYTE_COUNT	1179124
+SHUFFLE	COPY_MAP_DATA	20196000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1001084
+SHUFFLE	COMPRESS_BYTE_COUNT	1001088
+SHUFFLE	COPY_MAP_DATA	120418000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	796480
+SHUFFLE	COMPRESS_BYTE_COUNT	796484
+SHUFFLE	COPY_MAP_DATA	372611000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	793024
+SHUFFLE	COMPRESS_BYTE_COUNT	793028
+SHUFFLE	COPY_MAP_DATA	37021000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	754052
+SHUFFLE	COMPRESS_BYTE_COUNT	754056
+SHUFFLE	COPY_MAP_DATA	27602000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	781274
+SHUFFLE	COMPRESS_BYTE_COUNT	781278
+SHUFFLE	COPY_MAP_DATA	60236000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	785228
+SHUFFLE	COMPRESS_BYTE_COUNT	785232
+SHUFFLE	COPY_MAP_DATA	840609000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	753564
+SHUFFLE	COMPRESS_BYTE_COUNT	753568
+SHUFFLE	COPY_MAP_DATA	33554000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	756995
+SHUFFLE	COMPRESS_BYTE_COUNT	756999
+SHUFFLE	COPY_MAP_DATA	10121000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	850838
+SHUFFLE	COMPRESS_BYTE_COUNT	850842
+SHUFFLE	COPY_MAP_DATA	376098000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	852825
+SHUFFLE	COMPRESS_BYTE_COUNT	852829
+SHUFFLE	COPY_MAP_DATA	11888000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	746912
+SHUFFLE	COMPRESS_BYTE_COUNT	746916
+SHUFFLE	COPY_MAP_DATA	20333000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	851096
+SHUFFLE	COMPRESS_BYTE_COUNT	851100
+SHUFFLE	COPY_MAP_DATA	8026000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	759337
+SHUFFLE	COMPRESS_BYTE_COUNT	759341
+SHUFFLE	COPY_MAP_DATA	37063000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	751446
+SHUFFLE	COMPRESS_BYTE_COUNT	751450
+SHUFFLE	COPY_MAP_DATA	28166000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	770141
+SHUFFLE	COMPRESS_BYTE_COUNT	770145
+SHUFFLE	COPY_MAP_DATA	61238000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	752778
+SHUFFLE	COMPRESS_BYTE_COUNT	752782
+SHUFFLE	COPY_MAP_DATA	14560000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	771876
+SHUFFLE	COMPRESS_BYTE_COUNT	771880
+SHUFFLE	COPY_MAP_DATA	82766000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	715666
+SHUFFLE	COMPRESS_BYTE_COUNT	715670
+SHUFFLE	COPY_MAP_DATA	14467000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	743590
+SHUFFLE	COMPRESS_BYTE_COUNT	743594
+SHUFFLE	COPY_MAP_DATA	100009000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	716214
+SHUFFLE	COMPRESS_BYTE_COUNT	716218
+SHUFFLE	COPY_MAP_DATA	19499000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	771135
+SHUFFLE	COMPRESS_BYTE_COUNT	771139
+SHUFFLE	COPY_MAP_DATA	16331000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	746433
+SHUFFLE	COMPRESS_BYTE_COUNT	746437
+SHUFFLE	COPY_MAP_DATA	58737000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1126989
+SHUFFLE	COMPRESS_BYTE_COUNT	1126993
+SHUFFLE	COPY_MAP_DATA	64888000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	974959
+SHUFFLE	COMPRESS_BYTE_COUNT	974963
+SHUFFLE	COPY_MAP_DATA	31297000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1119541
+SHUFFLE	COMPRESS_BYTE_COUNT	1119545
+SHUFFLE	COPY_MAP_DATA	18152000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1102395
+SHUFFLE	COMPRESS_BYTE_COUNT	1102399
+SHUFFLE	COPY_MAP_DATA	61483000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	743212
+SHUFFLE	COMPRESS_BYTE_COUNT	743216
+SHUFFLE	COPY_MAP_DATA	15526000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1131106
+SHUFFLE	COMPRESS_BYTE_COUNT	1131110
+SHUFFLE	COPY_MAP_DATA	25141000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1093059
+SHUFFLE	COMPRESS_BYTE_COUNT	1093063
+SHUFFLE	COPY_MAP_DATA	18234000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1147414
+SHUFFLE	COMPRESS_BYTE_COUNT	1147418
+SHUFFLE	COPY_MAP_DATA	2734780000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	312157
+SHUFFLE	COMPRESS_BYTE_COUNT	312161
+SHUFFLE	COPY_MAP_DATA	375524000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	240525
+SHUFFLE	COMPRESS_BYTE_COUNT	240529
+SHUFFLE	COPY_MAP_DATA	9651000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	742014
+SHUFFLE	COMPRESS_BYTE_COUNT	742018
+SHUFFLE	COPY_MAP_DATA	862185000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	749209
+SHUFFLE	COMPRESS_BYTE_COUNT	749213
+SHUFFLE	COPY_MAP_DATA	817180000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	662591
+SHUFFLE	COMPRESS_BYTE_COUNT	662595
+SHUFFLE	COPY_MAP_DATA	11913000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	962630
+SHUFFLE	COMPRESS_BYTE_COUNT	962634
+SHUFFLE	COPY_MAP_DATA	36753000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	569463
+SHUFFLE	COMPRESS_BYTE_COUNT	569467
+SHUFFLE	COPY_MAP_DATA	11134000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	354159
+SHUFFLE	COMPRESS_BYTE_COUNT	354163
+SHUFFLE	COPY_MAP_DATA	10879000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	725765
+SHUFFLE	COMPRESS_BYTE_COUNT	725769
+SHUFFLE	COPY_MAP_DATA	39808000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	468788
+SHUFFLE	COMPRESS_BYTE_COUNT	468792
+SHUFFLE	COPY_MAP_DATA	486273000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	660599
+SHUFFLE	COMPRESS_BYTE_COUNT	660603
+SHUFFLE	COPY_MAP_DATA	14317000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	409454
+SHUFFLE	COMPRESS_BYTE_COUNT	409458
+SHUFFLE	COPY_MAP_DATA	70081000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	705069
+SHUFFLE	COMPRESS_BYTE_COUNT	705073
+SHUFFLE	COPY_MAP_DATA	106081000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	717940
+SHUFFLE	COMPRESS_BYTE_COUNT	717944
+SHUFFLE	COPY_MAP_DATA	42259000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	716327
+SHUFFLE	COMPRESS_BYTE_COUNT	716331
+SHUFFLE	COPY_MAP_DATA	18392000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	138386
+SHUFFLE	COMPRESS_BYTE_COUNT	138390
+SHUFFLE	COPY_MAP_DATA	189919000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	746087
+SHUFFLE	COMPRESS_BYTE_COUNT	746091
+SHUFFLE	COPY_MAP_DATA	27706000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	207673
+SHUFFLE	COMPRESS_BYTE_COUNT	207677
+SHUFFLE	COPY_MAP_DATA	8525000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	182744
+SHUFFLE	COMPRESS_BYTE_COUNT	182748
+SHUFFLE	COPY_MAP_DATA	7783000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	214817
+SHUFFLE	COMPRESS_BYTE_COUNT	214821
+SHUFFLE	COPY_MAP_DATA	20244000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	639673
+SHUFFLE	COMPRESS_BYTE_COUNT	639677
+SHUFFLE	COPY_MAP_DATA	11519000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	728161
+SHUFFLE	COMPRESS_BYTE_COUNT	728165
+SHUFFLE	COPY_MAP_DATA	34110000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	513902
+SHUFFLE	COMPRESS_BYTE_COUNT	513906
+SHUFFLE	COPY_MAP_DATA	11090000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	315607
+SHUFFLE	COMPRESS_BYTE_COUNT	315611
+SHUFFLE	COPY_MAP_DATA	5347000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	221499
+SHUFFLE	COMPRESS_BYTE_COUNT	221503
+SHUFFLE	COPY_MAP_DATA	9397000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	504442
+SHUFFLE	COMPRESS_BYTE_COUNT	504446
+SHUFFLE	COPY_MAP_DATA	11768000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	172511
+SHUFFLE	COMPRESS_BYTE_COUNT	172515
+SHUFFLE	COPY_MAP_DATA	8233000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	657742
+SHUFFLE	COMPRESS_BYTE_COUNT	657746
+SHUFFLE	COPY_MAP_DATA	19962000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	485176
+SHUFFLE	COMPRESS_BYTE_COUNT	485180
+SHUFFLE	COPY_MAP_DATA	22386000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	647659
+SHUFFLE	COMPRESS_BYTE_COUNT	647663
+SHUFFLE	COPY_MAP_DATA	13038000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	531181
+SHUFFLE	COMPRESS_BYTE_COUNT	531185
+SHUFFLE	COPY_MAP_DATA	2419122000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	714148
+SHUFFLE	COMPRESS_BYTE_COUNT	714152
+SHUFFLE	COPY_MAP_DATA	15067000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	696957
+SHUFFLE	COMPRESS_BYTE_COUNT	696961
+SHUFFLE	COPY_MAP_DATA	13390000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	444890
+SHUFFLE	COMPRESS_BYTE_COUNT	444894
+SHUFFLE	COPY_MAP_DATA	39443000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	747755
+SHUFFLE	COMPRESS_BYTE_COUNT	747759
+SHUFFLE	COPY_MAP_DATA	14129000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	642663
+SHUFFLE	COMPRESS_BYTE_COUNT	642667
+SHUFFLE	COPY_MAP_DATA	12738000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	408312
+SHUFFLE	COMPRESS_BYTE_COUNT	408316
+SHUFFLE	COPY_MAP_DATA	13419000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	789166
+SHUFFLE	COMPRESS_BYTE_COUNT	789170
+SHUFFLE	COPY_MAP_DATA	15421000
+SHUFFLE	UNCOMPRESS	0
+SORT	MERGE_MAP_DATA	10259168000
+SORT	READ_WRITE	10174854000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	80225936
+REDUCE	SETUP	346000
+REDUCE	SETUP_MEM	80225936
+REDUCE	CLEANUP	38000
+REDUCE	CLEANUP_MEM	92491264
+REDUCE	TOTAL_RUN	15216966000
+REDUCE	READ	735772000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	9016004000
+REDUCE	WRITE	2537683000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	11669129
+REDUCE	VALUE_BYTE_COUNT	1195497
+REDUCE	REDUCE_MEM	92491264
+REDUCE	WRITE	39100000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	513654807820
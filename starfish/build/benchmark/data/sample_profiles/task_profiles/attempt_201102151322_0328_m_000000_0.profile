@@ -0,0 +1,43 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.1	0
+MAP	STARTUP_MEM	213523296
+MAP	SETUP	3356000
+MAP	SETUP_MEM	213523296
+MAP	CLEANUP	109000
+MAP	CLEANUP_MEM	237967144
+MAP	TOTAL_RUN	28137504000
+MAP	READ	4419242000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	8576820
+MAP	VALUE_BYTE_COUNT	133168116
+MAP	MAP	19245999000
+MAP	WRITE	7055803000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1124095000
+MAP	SERIALIZE_OUTPUT	2587909000
+MAP	MAP_MEM	237967144
+SPILL	SORT_AND_SPILL	29938559799
+SPILL	QUICK_SORT	1864107000
+SPILL	SORT_COUNT	1048576
+SPILL	COMBINE	0
+SPILL	WRITE	28074452799
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	146650753
+SPILL	COMPRESS_BYTE_COUNT	46898333
+SPILL	SORT_AND_SPILL	24837000
+SPILL	QUICK_SORT	494000
+SPILL	SORT_COUNT	1095
+SPILL	COMBINE	0
+SPILL	WRITE	24343000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	155462
+SPILL	COMPRESS_BYTE_COUNT	61065
+MERGE	TOTAL_MERGE	60405708371
+MERGE	READ_WRITE	60329587371
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	119303572170
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.1	0
+MAP	STARTUP_MEM	213536952
+MAP	SETUP	3572000
+MAP	SETUP_MEM	214847480
+MAP	CLEANUP	131000
+MAP	CLEANUP_MEM	234803008
+MAP	TOTAL_RUN	25097455000
+MAP	READ	3524314000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9370926
+MAP	VALUE_BYTE_COUNT	133176495
+MAP	MAP	18069076000
+MAP	WRITE	5652025000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	954480000
+MAP	SERIALIZE_OUTPUT	2226470000
+MAP	MAP_MEM	234803008
+SPILL	SORT_AND_SPILL	30010346792
+SPILL	QUICK_SORT	1580655000
+SPILL	SORT_COUNT	1041214
+SPILL	COMBINE	0
+SPILL	WRITE	28429691792
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	147870000
+SPILL	COMPRESS_BYTE_COUNT	46558834
+MERGE	TOTAL_MERGE	1680000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	55658006792
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.1	0
+MAP	STARTUP_MEM	212693712
+MAP	SETUP	4979000
+MAP	SETUP_MEM	214016656
+MAP	CLEANUP	92000
+MAP	CLEANUP_MEM	234865936
+MAP	TOTAL_RUN	24687389000
+MAP	READ	3466797000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9368829
+MAP	VALUE_BYTE_COUNT	133176715
+MAP	MAP	17690712000
+MAP	WRITE	5503621000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	971670000
+MAP	SERIALIZE_OUTPUT	2134301000
+MAP	MAP_MEM	234865936
+SPILL	SORT_AND_SPILL	30303383000
+SPILL	QUICK_SORT	1698133000
+SPILL	SORT_COUNT	1040981
+SPILL	COMBINE	0
+SPILL	WRITE	28605250000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	147869197
+SPILL	COMPRESS_BYTE_COUNT	46552818
+MERGE	TOTAL_MERGE	1742000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	55514140000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.1	0
+MAP	STARTUP_MEM	212668240
+MAP	SETUP	3246000
+MAP	SETUP_MEM	213955784
+MAP	CLEANUP	93000
+MAP	CLEANUP_MEM	234915344
+MAP	TOTAL_RUN	24512899000
+MAP	READ	3534754000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9370782
+MAP	VALUE_BYTE_COUNT	133176590
+MAP	MAP	17249124000
+MAP	WRITE	5451573000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	943119000
+MAP	SERIALIZE_OUTPUT	2137935000
+MAP	MAP_MEM	235477504
+SPILL	SORT_AND_SPILL	30343075792
+SPILL	QUICK_SORT	1585048000
+SPILL	SORT_COUNT	1041198
+SPILL	COMBINE	0
+SPILL	WRITE	28758027792
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	147870561
+SPILL	COMPRESS_BYTE_COUNT	46561086
+MERGE	TOTAL_MERGE	6381000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	55375851792
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.1	0
+MAP	STARTUP_MEM	213530584
+MAP	SETUP	3550000
+MAP	SETUP_MEM	214824824
+MAP	CLEANUP	96000
+MAP	CLEANUP_MEM	235410104
+MAP	TOTAL_RUN	25634950000
+MAP	READ	3608121000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9371025
+MAP	VALUE_BYTE_COUNT	133176548
+MAP	MAP	18343016000
+MAP	WRITE	5883156000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	995982000
+MAP	SERIALIZE_OUTPUT	2206616000
+MAP	MAP_MEM	235410104
+SPILL	SORT_AND_SPILL	30427246000
+SPILL	QUICK_SORT	1570572000
+SPILL	SORT_COUNT	1041225
+SPILL	COMBINE	0
+SPILL	WRITE	28856674000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	147870140
+SPILL	COMPRESS_BYTE_COUNT	46565130
+MERGE	TOTAL_MERGE	1647000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	56519437000
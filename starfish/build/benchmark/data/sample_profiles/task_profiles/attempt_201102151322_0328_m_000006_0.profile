@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.10	0
+MAP	STARTUP_MEM	213514672
+MAP	SETUP	3707000
+MAP	SETUP_MEM	214802944
+MAP	CLEANUP	102000
+MAP	CLEANUP_MEM	226769336
+MAP	TOTAL_RUN	28726662000
+MAP	READ	4575971000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9297882
+MAP	VALUE_BYTE_COUNT	133184665
+MAP	MAP	19386558000
+MAP	WRITE	6773857000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1210876000
+MAP	SERIALIZE_OUTPUT	2432302000
+MAP	MAP_MEM	226769336
+SPILL	SORT_AND_SPILL	31458207020
+SPILL	QUICK_SORT	1778568020
+SPILL	SORT_COUNT	1033098
+SPILL	COMBINE	0
+SPILL	WRITE	29679639000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	148858240
+SPILL	COMPRESS_BYTE_COUNT	46270231
+MERGE	TOTAL_MERGE	1606000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	60752726020
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.10	0
+MAP	STARTUP_MEM	213531208
+MAP	SETUP	6212000
+MAP	SETUP_MEM	214826064
+MAP	CLEANUP	96000
+MAP	CLEANUP_MEM	226862240
+MAP	TOTAL_RUN	25676730000
+MAP	READ	3541087000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9297855
+MAP	VALUE_BYTE_COUNT	133184614
+MAP	MAP	18631408000
+MAP	WRITE	5492577000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	965046000
+MAP	SERIALIZE_OUTPUT	2192460000
+MAP	MAP_MEM	226862240
+SPILL	SORT_AND_SPILL	30050319000
+SPILL	QUICK_SORT	1868078000
+SPILL	SORT_COUNT	1033095
+SPILL	COMBINE	0
+SPILL	WRITE	28182241000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	148858416
+SPILL	COMPRESS_BYTE_COUNT	46270531
+MERGE	TOTAL_MERGE	10744000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	56387343000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.10	0
+MAP	STARTUP_MEM	213531832
+MAP	SETUP	5607000
+MAP	SETUP_MEM	214827312
+MAP	CLEANUP	103000
+MAP	CLEANUP_MEM	226868664
+MAP	TOTAL_RUN	25007986000
+MAP	READ	3523814000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9297108
+MAP	VALUE_BYTE_COUNT	133184771
+MAP	MAP	18013432000
+MAP	WRITE	5336868000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	936713000
+MAP	SERIALIZE_OUTPUT	2149903000
+MAP	MAP_MEM	226868664
+SPILL	SORT_AND_SPILL	30120937000
+SPILL	QUICK_SORT	1664410000
+SPILL	SORT_COUNT	1033012
+SPILL	COMBINE	0
+SPILL	WRITE	28456527000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	148858523
+SPILL	COMPRESS_BYTE_COUNT	46265233
+MERGE	TOTAL_MERGE	1683000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	55665504000
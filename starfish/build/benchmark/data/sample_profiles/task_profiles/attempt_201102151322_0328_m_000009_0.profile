@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.10	0
+MAP	STARTUP_MEM	213537784
+MAP	SETUP	5568000
+MAP	SETUP_MEM	214830368
+MAP	CLEANUP	92000
+MAP	CLEANUP_MEM	226273264
+MAP	TOTAL_RUN	27861666000
+MAP	READ	4201865000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9298683
+MAP	VALUE_BYTE_COUNT	133184457
+MAP	MAP	19261535000
+MAP	WRITE	6841204000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1136894000
+MAP	SERIALIZE_OUTPUT	2455395000
+MAP	MAP_MEM	226835424
+SPILL	SORT_AND_SPILL	29987030799
+SPILL	QUICK_SORT	1593404000
+SPILL	SORT_COUNT	1033187
+SPILL	COMBINE	0
+SPILL	WRITE	28393626799
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	148858424
+SPILL	COMPRESS_BYTE_COUNT	46264538
+MERGE	TOTAL_MERGE	1768000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	58398121799
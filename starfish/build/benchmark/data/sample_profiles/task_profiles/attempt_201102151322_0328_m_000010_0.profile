@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.11	0
+MAP	STARTUP_MEM	213556640
+MAP	SETUP	3470000
+MAP	SETUP_MEM	213556640
+MAP	CLEANUP	123000
+MAP	CLEANUP_MEM	226844536
+MAP	TOTAL_RUN	26138548000
+MAP	READ	3555227000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	8441870
+MAP	VALUE_BYTE_COUNT	133184776
+MAP	MAP	18934681000
+MAP	WRITE	5647255000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1016032000
+MAP	SERIALIZE_OUTPUT	2187544000
+MAP	MAP_MEM	226844536
+SPILL	SORT_AND_SPILL	30467343000
+SPILL	QUICK_SORT	1990583000
+SPILL	SORT_COUNT	1033004
+SPILL	COMBINE	0
+SPILL	WRITE	28476760000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	148857588
+SPILL	COMPRESS_BYTE_COUNT	46262607
+MERGE	TOTAL_MERGE	1762000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	57136403000
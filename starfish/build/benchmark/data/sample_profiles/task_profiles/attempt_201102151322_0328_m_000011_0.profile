@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.11	0
+MAP	STARTUP_MEM	213543224
+MAP	SETUP	5321000
+MAP	SETUP_MEM	214859944
+MAP	CLEANUP	90000
+MAP	CLEANUP_MEM	226228056
+MAP	TOTAL_RUN	23899274000
+MAP	READ	3460652000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9298170
+MAP	VALUE_BYTE_COUNT	133184576
+MAP	MAP	17015112000
+MAP	WRITE	5169541000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	909493000
+MAP	SERIALIZE_OUTPUT	2062418000
+MAP	MAP_MEM	226790216
+SPILL	SORT_AND_SPILL	30424891000
+SPILL	QUICK_SORT	1596013000
+SPILL	SORT_COUNT	1033130
+SPILL	COMBINE	0
+SPILL	WRITE	28828878000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	148858718
+SPILL	COMPRESS_BYTE_COUNT	46273206
+MERGE	TOTAL_MERGE	1590000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	54857053000
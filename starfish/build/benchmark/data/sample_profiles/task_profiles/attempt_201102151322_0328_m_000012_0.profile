@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.11	0
+MAP	STARTUP_MEM	212667216
+MAP	SETUP	3506000
+MAP	SETUP_MEM	213953712
+MAP	CLEANUP	94000
+MAP	CLEANUP_MEM	226308104
+MAP	TOTAL_RUN	24851709000
+MAP	READ	3594351000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9298404
+MAP	VALUE_BYTE_COUNT	133184652
+MAP	MAP	17371361000
+MAP	WRITE	5888898000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1010244000
+MAP	SERIALIZE_OUTPUT	2480192000
+MAP	MAP_MEM	226870264
+SPILL	SORT_AND_SPILL	29869264130
+SPILL	QUICK_SORT	1624192000
+SPILL	SORT_COUNT	1033156
+SPILL	COMBINE	0
+SPILL	WRITE	28245072130
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	148858560
+SPILL	COMPRESS_BYTE_COUNT	46270128
+MERGE	TOTAL_MERGE	1634000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	55496643130
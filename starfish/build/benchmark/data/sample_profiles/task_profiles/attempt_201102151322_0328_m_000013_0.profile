@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.11	0
+MAP	STARTUP_MEM	212695168
+MAP	SETUP	5631000
+MAP	SETUP_MEM	214014760
+MAP	CLEANUP	102000
+MAP	CLEANUP_MEM	226392456
+MAP	TOTAL_RUN	24304764000
+MAP	READ	3487831000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9298062
+MAP	VALUE_BYTE_COUNT	133184523
+MAP	MAP	17287781000
+MAP	WRITE	5628432000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1039634000
+MAP	SERIALIZE_OUTPUT	2117518000
+MAP	MAP_MEM	226954616
+SPILL	SORT_AND_SPILL	30190089000
+SPILL	QUICK_SORT	1743594000
+SPILL	SORT_COUNT	1033118
+SPILL	COMBINE	0
+SPILL	WRITE	28446495000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	148858457
+SPILL	COMPRESS_BYTE_COUNT	46272137
+MERGE	TOTAL_MERGE	12811000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	55128052000
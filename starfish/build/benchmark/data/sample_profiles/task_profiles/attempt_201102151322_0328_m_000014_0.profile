@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.11	0
+MAP	STARTUP_MEM	213545664
+MAP	SETUP	3559000
+MAP	SETUP_MEM	214846256
+MAP	CLEANUP	107000
+MAP	CLEANUP_MEM	227686872
+MAP	TOTAL_RUN	31297955000
+MAP	READ	6877923000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9298008
+MAP	VALUE_BYTE_COUNT	133184733
+MAP	MAP	20281943000
+MAP	WRITE	7270494000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1639172000
+MAP	SERIALIZE_OUTPUT	2648427000
+MAP	MAP_MEM	227686872
+SPILL	SORT_AND_SPILL	63322335000
+SPILL	QUICK_SORT	9584312000
+SPILL	SORT_COUNT	1033112
+SPILL	COMBINE	0
+SPILL	WRITE	53738023000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	148858796
+SPILL	COMPRESS_BYTE_COUNT	46259417
+MERGE	TOTAL_MERGE	1648000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	95786938000
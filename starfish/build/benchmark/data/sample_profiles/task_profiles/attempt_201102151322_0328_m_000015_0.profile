@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.12	0
+MAP	STARTUP_MEM	213540000
+MAP	SETUP	3545000
+MAP	SETUP_MEM	213540000
+MAP	CLEANUP	97000
+MAP	CLEANUP_MEM	226301504
+MAP	TOTAL_RUN	29105631000
+MAP	READ	4252335000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	8443943
+MAP	VALUE_BYTE_COUNT	133184536
+MAP	MAP	18867404000
+MAP	WRITE	6732781000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1290231000
+MAP	SERIALIZE_OUTPUT	2448647000
+MAP	MAP_MEM	226301504
+SPILL	SORT_AND_SPILL	30331641064
+SPILL	QUICK_SORT	1696452000
+SPILL	SORT_COUNT	1033263
+SPILL	COMBINE	0
+SPILL	WRITE	28635189064
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	148859643
+SPILL	COMPRESS_BYTE_COUNT	46269333
+MERGE	TOTAL_MERGE	1663000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	59887277064
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.12	0
+MAP	STARTUP_MEM	212696464
+MAP	SETUP	5848000
+MAP	SETUP_MEM	214013208
+MAP	CLEANUP	111000
+MAP	CLEANUP_MEM	226230144
+MAP	TOTAL_RUN	28252606168
+MAP	READ	4174511000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9297720
+MAP	VALUE_BYTE_COUNT	133184665
+MAP	MAP	19070488000
+MAP	WRITE	6521465000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1254344000
+MAP	SERIALIZE_OUTPUT	2323715000
+MAP	MAP_MEM	226230144
+SPILL	SORT_AND_SPILL	31686210000
+SPILL	QUICK_SORT	1669239000
+SPILL	SORT_COUNT	1033080
+SPILL	COMBINE	0
+SPILL	WRITE	30016971000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	148858222
+SPILL	COMPRESS_BYTE_COUNT	46266200
+MERGE	TOTAL_MERGE	16293000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	60475374168
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.12	0
+MAP	STARTUP_MEM	213531824
+MAP	SETUP	4566000
+MAP	SETUP_MEM	214827304
+MAP	CLEANUP	106000
+MAP	CLEANUP_MEM	226307200
+MAP	TOTAL_RUN	25707368000
+MAP	READ	3689497000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9296766
+MAP	VALUE_BYTE_COUNT	133184700
+MAP	MAP	18394344000
+MAP	WRITE	5463317000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	950880000
+MAP	SERIALIZE_OUTPUT	2081806000
+MAP	MAP_MEM	226869360
+SPILL	SORT_AND_SPILL	30333656000
+SPILL	QUICK_SORT	1764460000
+SPILL	SORT_COUNT	1032974
+SPILL	COMBINE	0
+SPILL	WRITE	28569196000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	148858540
+SPILL	COMPRESS_BYTE_COUNT	46261349
+MERGE	TOTAL_MERGE	8322000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	57151246000
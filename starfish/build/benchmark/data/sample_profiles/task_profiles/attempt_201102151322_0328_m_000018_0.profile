@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.12	0
+MAP	STARTUP_MEM	213547560
+MAP	SETUP	17482000
+MAP	SETUP_MEM	214845248
+MAP	CLEANUP	95000
+MAP	CLEANUP_MEM	226793512
+MAP	TOTAL_RUN	24828899000
+MAP	READ	3720926000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9298269
+MAP	VALUE_BYTE_COUNT	133184660
+MAP	MAP	17358924000
+MAP	WRITE	5307042000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	921742000
+MAP	SERIALIZE_OUTPUT	2060391000
+MAP	MAP_MEM	226793512
+SPILL	SORT_AND_SPILL	30454484000
+SPILL	QUICK_SORT	1641850000
+SPILL	SORT_COUNT	1033141
+SPILL	COMBINE	0
+SPILL	WRITE	28812634000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	148859100
+SPILL	COMPRESS_BYTE_COUNT	46273940
+MERGE	TOTAL_MERGE	1676000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	56292561000
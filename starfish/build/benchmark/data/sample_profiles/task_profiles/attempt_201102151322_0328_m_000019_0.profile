@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.12	0
+MAP	STARTUP_MEM	212675528
+MAP	SETUP	5422000
+MAP	SETUP_MEM	213970384
+MAP	CLEANUP	91000
+MAP	CLEANUP_MEM	226862160
+MAP	TOTAL_RUN	24081831000
+MAP	READ	3620906000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9297846
+MAP	VALUE_BYTE_COUNT	133184533
+MAP	MAP	16984902000
+MAP	WRITE	5395709000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	959599000
+MAP	SERIALIZE_OUTPUT	2040144000
+MAP	MAP_MEM	226862160
+SPILL	SORT_AND_SPILL	29771462000
+SPILL	QUICK_SORT	1583008000
+SPILL	SORT_COUNT	1033094
+SPILL	COMBINE	0
+SPILL	WRITE	28188454000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	148858742
+SPILL	COMPRESS_BYTE_COUNT	46271504
+MERGE	TOTAL_MERGE	1658000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	54377772000
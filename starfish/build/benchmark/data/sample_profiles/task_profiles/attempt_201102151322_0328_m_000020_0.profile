@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.13	0
+MAP	STARTUP_MEM	213531272
+MAP	SETUP	4630000
+MAP	SETUP_MEM	213531272
+MAP	CLEANUP	98000
+MAP	CLEANUP_MEM	226296304
+MAP	TOTAL_RUN	26810608000
+MAP	READ	4350332000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	8442588
+MAP	VALUE_BYTE_COUNT	133184748
+MAP	MAP	18632839000
+MAP	WRITE	5642415000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	968512000
+MAP	SERIALIZE_OUTPUT	2106057000
+MAP	MAP_MEM	226858464
+SPILL	SORT_AND_SPILL	30003913000
+SPILL	QUICK_SORT	1669664000
+SPILL	SORT_COUNT	1033091
+SPILL	COMBINE	0
+SPILL	WRITE	28334249000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	148858446
+SPILL	COMPRESS_BYTE_COUNT	46267336
+MERGE	TOTAL_MERGE	1809000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	57331859000
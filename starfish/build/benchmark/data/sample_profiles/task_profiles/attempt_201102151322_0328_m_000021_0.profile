@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.13	0
+MAP	STARTUP_MEM	212684632
+MAP	SETUP	4873000
+MAP	SETUP_MEM	213998464
+MAP	CLEANUP	90000
+MAP	CLEANUP_MEM	226301232
+MAP	TOTAL_RUN	23579739000
+MAP	READ	3405196000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9298368
+MAP	VALUE_BYTE_COUNT	133184556
+MAP	MAP	16618785000
+MAP	WRITE	5314895000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	952947000
+MAP	SERIALIZE_OUTPUT	1978229000
+MAP	MAP_MEM	226863392
+SPILL	SORT_AND_SPILL	30090757130
+SPILL	QUICK_SORT	1593516000
+SPILL	SORT_COUNT	1033152
+SPILL	COMBINE	0
+SPILL	WRITE	28497241130
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	148858556
+SPILL	COMPRESS_BYTE_COUNT	46269141
+MERGE	TOTAL_MERGE	9309000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	54119614130
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.13	0
+MAP	STARTUP_MEM	213523416
+MAP	SETUP	3467000
+MAP	SETUP_MEM	214810472
+MAP	CLEANUP	90000
+MAP	CLEANUP_MEM	228695360
+MAP	TOTAL_RUN	30316641000
+MAP	READ	6157799000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9297459
+MAP	VALUE_BYTE_COUNT	133184596
+MAP	MAP	19468443000
+MAP	WRITE	6077741000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	985863000
+MAP	SERIALIZE_OUTPUT	2526407000
+MAP	MAP_MEM	228695360
+SPILL	SORT_AND_SPILL	41986261000
+SPILL	QUICK_SORT	1696812000
+SPILL	SORT_COUNT	1033051
+SPILL	COMBINE	0
+SPILL	WRITE	40289449000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	148857925
+SPILL	COMPRESS_BYTE_COUNT	46265436
+MERGE	TOTAL_MERGE	1708000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	72766045000
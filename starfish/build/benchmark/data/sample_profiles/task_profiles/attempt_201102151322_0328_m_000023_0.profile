@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.13	0
+MAP	STARTUP_MEM	213528472
+MAP	SETUP	5423000
+MAP	SETUP_MEM	214820608
+MAP	CLEANUP	96000
+MAP	CLEANUP_MEM	227690232
+MAP	TOTAL_RUN	43828539000
+MAP	READ	8566479000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9297621
+MAP	VALUE_BYTE_COUNT	133184652
+MAP	MAP	29521017000
+MAP	WRITE	9934009000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	2621496000
+MAP	SERIALIZE_OUTPUT	3936295000
+MAP	MAP_MEM	228252392
+SPILL	SORT_AND_SPILL	48396421000
+SPILL	QUICK_SORT	1618354000
+SPILL	SORT_COUNT	1033069
+SPILL	COMBINE	0
+SPILL	WRITE	46778067000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	148858404
+SPILL	COMPRESS_BYTE_COUNT	46263310
+MERGE	TOTAL_MERGE	1858000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	92754635000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.13	0
+MAP	STARTUP_MEM	213551592
+MAP	SETUP	3439000
+MAP	SETUP_MEM	214876808
+MAP	CLEANUP	91000
+MAP	CLEANUP_MEM	227659184
+MAP	TOTAL_RUN	38291675933
+MAP	READ	8597988000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9297531
+MAP	VALUE_BYTE_COUNT	133184755
+MAP	MAP	25374545933
+MAP	WRITE	8657241000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1853086000
+MAP	SERIALIZE_OUTPUT	3266882000
+MAP	MAP_MEM	227659184
+SPILL	SORT_AND_SPILL	48157289000
+SPILL	QUICK_SORT	1560619000
+SPILL	SORT_COUNT	1033059
+SPILL	COMBINE	0
+SPILL	WRITE	46596670000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	148857815
+SPILL	COMPRESS_BYTE_COUNT	46269327
+MERGE	TOTAL_MERGE	1682000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	86937663933
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.14	0
+MAP	STARTUP_MEM	212681272
+MAP	SETUP	3295000
+MAP	SETUP_MEM	212681272
+MAP	CLEANUP	90000
+MAP	CLEANUP_MEM	226824384
+MAP	TOTAL_RUN	23814940000
+MAP	READ	3338360000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	8441502
+MAP	VALUE_BYTE_COUNT	133184865
+MAP	MAP	16993256000
+MAP	WRITE	5459163000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	921347000
+MAP	SERIALIZE_OUTPUT	2110792000
+MAP	MAP_MEM	226824384
+SPILL	SORT_AND_SPILL	30038735000
+SPILL	QUICK_SORT	1588673000
+SPILL	SORT_COUNT	1032965
+SPILL	COMBINE	0
+SPILL	WRITE	28450062000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	148857695
+SPILL	COMPRESS_BYTE_COUNT	46260630
+MERGE	TOTAL_MERGE	1643000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	54213170000
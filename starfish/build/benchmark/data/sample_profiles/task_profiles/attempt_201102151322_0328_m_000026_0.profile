@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.14	0
+MAP	STARTUP_MEM	213523392
+MAP	SETUP	5576000
+MAP	SETUP_MEM	214810448
+MAP	CLEANUP	117000
+MAP	CLEANUP_MEM	227740936
+MAP	TOTAL_RUN	32274631000
+MAP	READ	8229429000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9297000
+MAP	VALUE_BYTE_COUNT	133184675
+MAP	MAP	20159231000
+MAP	WRITE	6182575000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1456949000
+MAP	SERIALIZE_OUTPUT	2163862000
+MAP	MAP_MEM	228303096
+SPILL	SORT_AND_SPILL	38104233000
+SPILL	QUICK_SORT	3561221000
+SPILL	SORT_COUNT	1033000
+SPILL	COMBINE	0
+SPILL	WRITE	34543012000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	148857976
+SPILL	COMPRESS_BYTE_COUNT	46261145
+MERGE	TOTAL_MERGE	1636000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	70910207000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.14	0
+MAP	STARTUP_MEM	212682160
+MAP	SETUP	6043000
+MAP	SETUP_MEM	214830384
+MAP	CLEANUP	87000
+MAP	CLEANUP_MEM	227723016
+MAP	TOTAL_RUN	29662840020
+MAP	READ	5014470000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9298179
+MAP	VALUE_BYTE_COUNT	133184599
+MAP	MAP	19802718000
+MAP	WRITE	7565634000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1383854000
+MAP	SERIALIZE_OUTPUT	2479539000
+MAP	MAP_MEM	227723016
+SPILL	SORT_AND_SPILL	30798922000
+SPILL	QUICK_SORT	1602893000
+SPILL	SORT_COUNT	1033131
+SPILL	COMBINE	0
+SPILL	WRITE	29196029000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	148859424
+SPILL	COMPRESS_BYTE_COUNT	46268718
+MERGE	TOTAL_MERGE	1665000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	61163037020
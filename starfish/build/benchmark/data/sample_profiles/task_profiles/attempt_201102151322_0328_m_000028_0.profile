@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.14	0
+MAP	STARTUP_MEM	213540056
+MAP	SETUP	10132000
+MAP	SETUP_MEM	214834912
+MAP	CLEANUP	94000
+MAP	CLEANUP_MEM	226863360
+MAP	TOTAL_RUN	29205563168
+MAP	READ	4401439000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9297522
+MAP	VALUE_BYTE_COUNT	133184644
+MAP	MAP	19604833168
+MAP	WRITE	6998206000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1209337000
+MAP	SERIALIZE_OUTPUT	2443115000
+MAP	MAP_MEM	226863360
+SPILL	SORT_AND_SPILL	31413966000
+SPILL	QUICK_SORT	1637365000
+SPILL	SORT_COUNT	1033058
+SPILL	COMBINE	0
+SPILL	WRITE	29776601000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	148858445
+SPILL	COMPRESS_BYTE_COUNT	46264789
+MERGE	TOTAL_MERGE	1735000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	61102576168
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.14	0
+MAP	STARTUP_MEM	213539568
+MAP	SETUP	3520000
+MAP	SETUP_MEM	214852720
+MAP	CLEANUP	91000
+MAP	CLEANUP_MEM	226936408
+MAP	TOTAL_RUN	24580624000
+MAP	READ	3594382000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9297729
+MAP	VALUE_BYTE_COUNT	133184695
+MAP	MAP	17215311000
+MAP	WRITE	5479608000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	915078000
+MAP	SERIALIZE_OUTPUT	2085656000
+MAP	MAP_MEM	226936408
+SPILL	SORT_AND_SPILL	30048555000
+SPILL	QUICK_SORT	1662971000
+SPILL	SORT_COUNT	1033081
+SPILL	COMBINE	0
+SPILL	WRITE	28385584000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	148859067
+SPILL	COMPRESS_BYTE_COUNT	46267860
+MERGE	TOTAL_MERGE	1695000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	55162383000
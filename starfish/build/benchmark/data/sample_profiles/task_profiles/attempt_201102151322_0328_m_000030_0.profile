@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.15	0
+MAP	STARTUP_MEM	213540200
+MAP	SETUP	3282000
+MAP	SETUP_MEM	213540200
+MAP	CLEANUP	89000
+MAP	CLEANUP_MEM	225435576
+MAP	TOTAL_RUN	23763183000
+MAP	READ	3351284000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	8441525
+MAP	VALUE_BYTE_COUNT	133184880
+MAP	MAP	17006486000
+MAP	WRITE	5403434000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	919314000
+MAP	SERIALIZE_OUTPUT	2077514000
+MAP	MAP_MEM	225435576
+SPILL	SORT_AND_SPILL	29776242000
+SPILL	QUICK_SORT	1581896000
+SPILL	SORT_COUNT	1032960
+SPILL	COMBINE	0
+SPILL	WRITE	28194346000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	148857676
+SPILL	COMPRESS_BYTE_COUNT	46259749
+MERGE	TOTAL_MERGE	1586000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	53920701000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.15	0
+MAP	STARTUP_MEM	212689728
+MAP	SETUP	5458000
+MAP	SETUP_MEM	214008704
+MAP	CLEANUP	90000
+MAP	CLEANUP_MEM	226255600
+MAP	TOTAL_RUN	23660468000
+MAP	READ	3340812000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9298107
+MAP	VALUE_BYTE_COUNT	133184581
+MAP	MAP	16820816000
+MAP	WRITE	5378729000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1066610000
+MAP	SERIALIZE_OUTPUT	1996157000
+MAP	MAP_MEM	226817760
+SPILL	SORT_AND_SPILL	29619174000
+SPILL	QUICK_SORT	1612735000
+SPILL	SORT_COUNT	1033123
+SPILL	COMBINE	0
+SPILL	WRITE	28006439000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	148858139
+SPILL	COMPRESS_BYTE_COUNT	46268411
+MERGE	TOTAL_MERGE	1604000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	53780813000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.15	0
+MAP	STARTUP_MEM	213523376
+MAP	SETUP	3473000
+MAP	SETUP_MEM	214810432
+MAP	CLEANUP	92000
+MAP	CLEANUP_MEM	228357112
+MAP	TOTAL_RUN	36057032000
+MAP	READ	12004162000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9296910
+MAP	VALUE_BYTE_COUNT	133184747
+MAP	MAP	19674744000
+MAP	WRITE	7364441000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	927564000
+MAP	SERIALIZE_OUTPUT	2476900000
+MAP	MAP_MEM	228357112
+SPILL	SORT_AND_SPILL	51061042421
+SPILL	QUICK_SORT	3836335000
+SPILL	SORT_COUNT	1032990
+SPILL	COMBINE	0
+SPILL	WRITE	47224707421
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	148857665
+SPILL	COMPRESS_BYTE_COUNT	46261794
+MERGE	TOTAL_MERGE	1601000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	87565043421
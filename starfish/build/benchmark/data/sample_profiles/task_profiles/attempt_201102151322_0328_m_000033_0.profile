@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.15	0
+MAP	STARTUP_MEM	213527808
+MAP	SETUP	5942000
+MAP	SETUP_MEM	214819288
+MAP	CLEANUP	122000
+MAP	CLEANUP_MEM	226285232
+MAP	TOTAL_RUN	31156771000
+MAP	READ	5931842000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9296955
+MAP	VALUE_BYTE_COUNT	133184716
+MAP	MAP	19976058000
+MAP	WRITE	6516794000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1141696000
+MAP	SERIALIZE_OUTPUT	2302741000
+MAP	MAP_MEM	226285232
+SPILL	SORT_AND_SPILL	55972714000
+SPILL	QUICK_SORT	2688518000
+SPILL	SORT_COUNT	1032995
+SPILL	COMBINE	0
+SPILL	WRITE	53284196000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	148858024
+SPILL	COMPRESS_BYTE_COUNT	46263780
+MERGE	TOTAL_MERGE	1667000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	87704153000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.15	0
+MAP	STARTUP_MEM	213531808
+MAP	SETUP	43362000
+MAP	SETUP_MEM	214827288
+MAP	CLEANUP	86000
+MAP	CLEANUP_MEM	228316552
+MAP	TOTAL_RUN	38930760000
+MAP	READ	8798747000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9297486
+MAP	VALUE_BYTE_COUNT	133184623
+MAP	MAP	22954037000
+MAP	WRITE	8098326000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1315647000
+MAP	SERIALIZE_OUTPUT	2712107000
+MAP	MAP_MEM	228316552
+SPILL	SORT_AND_SPILL	50353630421
+SPILL	QUICK_SORT	2562073000
+SPILL	SORT_COUNT	1033054
+SPILL	COMBINE	0
+SPILL	WRITE	47791557421
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	148858490
+SPILL	COMPRESS_BYTE_COUNT	46265693
+MERGE	TOTAL_MERGE	56473000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	90185272421
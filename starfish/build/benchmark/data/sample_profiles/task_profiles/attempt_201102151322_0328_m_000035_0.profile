@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.16	0
+MAP	STARTUP_MEM	213529888
+MAP	SETUP	3330000
+MAP	SETUP_MEM	213529888
+MAP	CLEANUP	99000
+MAP	CLEANUP_MEM	226284560
+MAP	TOTAL_RUN	35871163000
+MAP	READ	8955739000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	8441048
+MAP	VALUE_BYTE_COUNT	133184873
+MAP	MAP	20568498000
+MAP	WRITE	7074401000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1122745000
+MAP	SERIALIZE_OUTPUT	2691787000
+MAP	MAP_MEM	226284560
+SPILL	SORT_AND_SPILL	55635160000
+SPILL	QUICK_SORT	1586583000
+SPILL	SORT_COUNT	1032909
+SPILL	COMBINE	0
+SPILL	WRITE	54048577000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	148858018
+SPILL	COMPRESS_BYTE_COUNT	46262520
+MERGE	TOTAL_MERGE	1778000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	91933076000
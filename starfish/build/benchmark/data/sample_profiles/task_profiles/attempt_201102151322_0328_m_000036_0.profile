@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.16	0
+MAP	STARTUP_MEM	212667784
+MAP	SETUP	3564000
+MAP	SETUP_MEM	214810480
+MAP	CLEANUP	115000
+MAP	CLEANUP_MEM	226313232
+MAP	TOTAL_RUN	36227322000
+MAP	READ	7523787000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9297252
+MAP	VALUE_BYTE_COUNT	133184681
+MAP	MAP	23854386000
+MAP	WRITE	8168011000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1310825000
+MAP	SERIALIZE_OUTPUT	2991538000
+MAP	MAP_MEM	226313232
+SPILL	SORT_AND_SPILL	55158358000
+SPILL	QUICK_SORT	1592079000
+SPILL	SORT_COUNT	1033028
+SPILL	COMBINE	0
+SPILL	WRITE	53566279000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	148857823
+SPILL	COMPRESS_BYTE_COUNT	46259521
+MERGE	TOTAL_MERGE	1679000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	92065212000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.16	0
+MAP	STARTUP_MEM	213531312
+MAP	SETUP	6123000
+MAP	SETUP_MEM	214826168
+MAP	CLEANUP	94000
+MAP	CLEANUP_MEM	227726824
+MAP	TOTAL_RUN	43552169000
+MAP	READ	6588828000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9296955
+MAP	VALUE_BYTE_COUNT	133184790
+MAP	MAP	27546176000
+MAP	WRITE	10054401000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1049335000
+MAP	SERIALIZE_OUTPUT	3340021000
+MAP	MAP_MEM	228288984
+SPILL	SORT_AND_SPILL	54351308000
+SPILL	QUICK_SORT	4248064000
+SPILL	SORT_COUNT	1032995
+SPILL	COMBINE	0
+SPILL	WRITE	50103244000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	148857260
+SPILL	COMPRESS_BYTE_COUNT	46266771
+MERGE	TOTAL_MERGE	2370000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	98365877000
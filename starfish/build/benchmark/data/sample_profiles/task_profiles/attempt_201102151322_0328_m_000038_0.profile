@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.16	0
+MAP	STARTUP_MEM	213553712
+MAP	SETUP	3417000
+MAP	SETUP_MEM	214881008
+MAP	CLEANUP	90000
+MAP	CLEANUP_MEM	227669232
+MAP	TOTAL_RUN	40477655000
+MAP	READ	6628724000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9298287
+MAP	VALUE_BYTE_COUNT	133184531
+MAP	MAP	26034862000
+MAP	WRITE	9472648000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	2007375000
+MAP	SERIALIZE_OUTPUT	2793010000
+MAP	MAP_MEM	228231392
+SPILL	SORT_AND_SPILL	52696421371
+SPILL	QUICK_SORT	4135401000
+SPILL	SORT_COUNT	1033143
+SPILL	COMBINE	0
+SPILL	WRITE	48561020371
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	148858054
+SPILL	COMPRESS_BYTE_COUNT	46268731
+MERGE	TOTAL_MERGE	1616000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	93628765371
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.16	0
+MAP	STARTUP_MEM	212680992
+MAP	SETUP	3645000
+MAP	SETUP_MEM	213972480
+MAP	CLEANUP	135000
+MAP	CLEANUP_MEM	227683440
+MAP	TOTAL_RUN	28747799000
+MAP	READ	4535754000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9297765
+MAP	VALUE_BYTE_COUNT	133184645
+MAP	MAP	19333722000
+MAP	WRITE	6523500000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1288685000
+MAP	SERIALIZE_OUTPUT	2268389000
+MAP	MAP_MEM	227683440
+SPILL	SORT_AND_SPILL	30744829333
+SPILL	QUICK_SORT	1696230333
+SPILL	SORT_COUNT	1033085
+SPILL	COMBINE	0
+SPILL	WRITE	29048599000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	148858692
+SPILL	COMPRESS_BYTE_COUNT	46266602
+MERGE	TOTAL_MERGE	1679000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	60307014333
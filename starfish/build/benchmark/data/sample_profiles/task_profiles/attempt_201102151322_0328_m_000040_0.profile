@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.17	0
+MAP	STARTUP_MEM	213529912
+MAP	SETUP	3561000
+MAP	SETUP_MEM	213529912
+MAP	CLEANUP	94000
+MAP	CLEANUP_MEM	226296552
+MAP	TOTAL_RUN	42525797000
+MAP	READ	9635225000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	8442780
+MAP	VALUE_BYTE_COUNT	133184614
+MAP	MAP	27330060000
+MAP	WRITE	11661286000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	2285749000
+MAP	SERIALIZE_OUTPUT	4158772000
+MAP	MAP_MEM	226296552
+SPILL	SORT_AND_SPILL	54007652686
+SPILL	QUICK_SORT	2292152000
+SPILL	SORT_COUNT	1033116
+SPILL	COMBINE	0
+SPILL	WRITE	51715500686
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	148858405
+SPILL	COMPRESS_BYTE_COUNT	46271196
+MERGE	TOTAL_MERGE	21732000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	97019977686
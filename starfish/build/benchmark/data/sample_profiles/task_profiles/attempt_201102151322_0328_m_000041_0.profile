@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.17	0
+MAP	STARTUP_MEM	213556624
+MAP	SETUP	3776000
+MAP	SETUP_MEM	214886856
+MAP	CLEANUP	192000
+MAP	CLEANUP_MEM	228270568
+MAP	TOTAL_RUN	38845603000
+MAP	READ	7339899000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9298314
+MAP	VALUE_BYTE_COUNT	133184720
+MAP	MAP	26429917000
+MAP	WRITE	7999757000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1808771000
+MAP	SERIALIZE_OUTPUT	2940636000
+MAP	MAP_MEM	228270568
+SPILL	SORT_AND_SPILL	56038275000
+SPILL	QUICK_SORT	2396535000
+SPILL	SORT_COUNT	1033146
+SPILL	COMBINE	0
+SPILL	WRITE	53641740000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	148858952
+SPILL	COMPRESS_BYTE_COUNT	46273127
+MERGE	TOTAL_MERGE	200037000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	95859596000
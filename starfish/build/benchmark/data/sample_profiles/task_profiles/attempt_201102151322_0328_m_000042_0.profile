@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.17	0
+MAP	STARTUP_MEM	213541232
+MAP	SETUP	3685000
+MAP	SETUP_MEM	214837280
+MAP	CLEANUP	100000
+MAP	CLEANUP_MEM	229168440
+MAP	TOTAL_RUN	28109428000
+MAP	READ	4300891000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9298962
+MAP	VALUE_BYTE_COUNT	133184470
+MAP	MAP	19277962000
+MAP	WRITE	6837444000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1229615000
+MAP	SERIALIZE_OUTPUT	2410443000
+MAP	MAP_MEM	229730600
+SPILL	SORT_AND_SPILL	30748803333
+SPILL	QUICK_SORT	1698286000
+SPILL	SORT_COUNT	1033218
+SPILL	COMBINE	0
+SPILL	WRITE	29050517333
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	148858411
+SPILL	COMPRESS_BYTE_COUNT	46267490
+MERGE	TOTAL_MERGE	1959000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	59798311333
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.17	0
+MAP	STARTUP_MEM	213560896
+MAP	SETUP	5667000
+MAP	SETUP_MEM	214885368
+MAP	CLEANUP	92000
+MAP	CLEANUP_MEM	226844496
+MAP	TOTAL_RUN	45271887000
+MAP	READ	12489260000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9288396
+MAP	VALUE_BYTE_COUNT	133185589
+MAP	MAP	27709814000
+MAP	WRITE	9815762000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1451515000
+MAP	SERIALIZE_OUTPUT	2654062000
+MAP	MAP_MEM	226844496
+SPILL	SORT_AND_SPILL	53525779686
+SPILL	QUICK_SORT	1724567000
+SPILL	SORT_COUNT	1032044
+SPILL	COMBINE	0
+SPILL	WRITE	51801212686
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	148982768
+SPILL	COMPRESS_BYTE_COUNT	46228917
+MERGE	TOTAL_MERGE	1709000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	99400014686
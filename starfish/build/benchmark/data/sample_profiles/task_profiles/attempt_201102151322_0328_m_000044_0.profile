@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.17	0
+MAP	STARTUP_MEM	212676592
+MAP	SETUP	3867000
+MAP	SETUP_MEM	213963648
+MAP	CLEANUP	95000
+MAP	CLEANUP_MEM	219172960
+MAP	TOTAL_RUN	36656601584
+MAP	READ	5706949000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9226476
+MAP	VALUE_BYTE_COUNT	133192621
+MAP	MAP	26130560000
+MAP	WRITE	9574861000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1792553000
+MAP	SERIALIZE_OUTPUT	4437770000
+MAP	MAP_MEM	219172960
+SPILL	SORT_AND_SPILL	77890182889
+SPILL	QUICK_SORT	5048662000
+SPILL	SORT_COUNT	1025164
+SPILL	COMBINE	0
+SPILL	WRITE	72841520889
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	149832401
+SPILL	COMPRESS_BYTE_COUNT	45995294
+MERGE	TOTAL_MERGE	350104000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	116073632473
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.18	0
+MAP	STARTUP_MEM	212695312
+MAP	SETUP	19742000
+MAP	SETUP_MEM	213550952
+MAP	CLEANUP	93000
+MAP	CLEANUP_MEM	219682952
+MAP	TOTAL_RUN	36053095000
+MAP	READ	8766963000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	8378997
+MAP	VALUE_BYTE_COUNT	133192443
+MAP	MAP	23411240000
+MAP	WRITE	9779450000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1171596000
+MAP	SERIALIZE_OUTPUT	2309387000
+MAP	MAP_MEM	219682952
+SPILL	SORT_AND_SPILL	58986706000
+SPILL	QUICK_SORT	1986581000
+SPILL	SORT_COUNT	1025311
+SPILL	COMBINE	0
+SPILL	WRITE	57000125000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	149832404
+SPILL	COMPRESS_BYTE_COUNT	45999850
+MERGE	TOTAL_MERGE	1685000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	96455041000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.18	0
+MAP	STARTUP_MEM	212667736
+MAP	SETUP	3582000
+MAP	SETUP_MEM	213954792
+MAP	CLEANUP	102000
+MAP	CLEANUP_MEM	220547712
+MAP	TOTAL_RUN	44314053000
+MAP	READ	6256779000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9227979
+MAP	VALUE_BYTE_COUNT	133192374
+MAP	MAP	28332130000
+MAP	WRITE	9502433000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1523211000
+MAP	SERIALIZE_OUTPUT	3506787000
+MAP	MAP_MEM	220547712
+SPILL	SORT_AND_SPILL	49587923000
+SPILL	QUICK_SORT	3184789000
+SPILL	SORT_COUNT	1025331
+SPILL	COMBINE	0
+SPILL	WRITE	46403134000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	149833421
+SPILL	COMPRESS_BYTE_COUNT	45994182
+MERGE	TOTAL_MERGE	16041000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	95935874000
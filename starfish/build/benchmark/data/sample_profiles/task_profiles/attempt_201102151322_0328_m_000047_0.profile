@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.18	0
+MAP	STARTUP_MEM	214346600
+MAP	SETUP	3548000
+MAP	SETUP_MEM	215634888
+MAP	CLEANUP	95000
+MAP	CLEANUP_MEM	221584944
+MAP	TOTAL_RUN	39311084000
+MAP	READ	6857278000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9226800
+MAP	VALUE_BYTE_COUNT	133192633
+MAP	MAP	27707299000
+MAP	WRITE	8273775000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1385871000
+MAP	SERIALIZE_OUTPUT	2995884000
+MAP	MAP_MEM	221584944
+SPILL	SORT_AND_SPILL	46722524000
+SPILL	QUICK_SORT	2789651000
+SPILL	SORT_COUNT	1025200
+SPILL	COMBINE	0
+SPILL	WRITE	43932873000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	149831749
+SPILL	COMPRESS_BYTE_COUNT	45994187
+MERGE	TOTAL_MERGE	1612000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	86757462000
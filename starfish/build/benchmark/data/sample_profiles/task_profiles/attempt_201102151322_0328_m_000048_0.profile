@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.18	0
+MAP	STARTUP_MEM	213512616
+MAP	SETUP	5039000
+MAP	SETUP_MEM	214794160
+MAP	CLEANUP	102000
+MAP	CLEANUP_MEM	220552240
+MAP	TOTAL_RUN	30547296000
+MAP	READ	5289972000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9226872
+MAP	VALUE_BYTE_COUNT	133192501
+MAP	MAP	21341014000
+MAP	WRITE	6117606000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1098692000
+MAP	SERIALIZE_OUTPUT	2402804000
+MAP	MAP_MEM	221114400
+SPILL	SORT_AND_SPILL	39705678000
+SPILL	QUICK_SORT	3226250000
+SPILL	SORT_COUNT	1025208
+SPILL	COMBINE	0
+SPILL	WRITE	36479428000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	149832365
+SPILL	COMPRESS_BYTE_COUNT	45991014
+MERGE	TOTAL_MERGE	1653000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	70735825000
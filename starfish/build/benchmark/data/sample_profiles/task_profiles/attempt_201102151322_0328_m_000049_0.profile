@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.18	0
+MAP	STARTUP_MEM	213549016
+MAP	SETUP	3753000
+MAP	SETUP_MEM	214862848
+MAP	CLEANUP	113000
+MAP	CLEANUP_MEM	219168656
+MAP	TOTAL_RUN	28913769000
+MAP	READ	5176036000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9227232
+MAP	VALUE_BYTE_COUNT	133192477
+MAP	MAP	19264825000
+MAP	WRITE	6245315000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1107267000
+MAP	SERIALIZE_OUTPUT	2262734000
+MAP	MAP_MEM	219730816
+SPILL	SORT_AND_SPILL	30270374064
+SPILL	QUICK_SORT	1725792000
+SPILL	SORT_COUNT	1025248
+SPILL	COMBINE	0
+SPILL	WRITE	28544582064
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	149832513
+SPILL	COMPRESS_BYTE_COUNT	45992222
+MERGE	TOTAL_MERGE	2062000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	59835635064
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.19	0
+MAP	STARTUP_MEM	212681968
+MAP	SETUP	3868000
+MAP	SETUP_MEM	212681968
+MAP	CLEANUP	93000
+MAP	CLEANUP_MEM	217723760
+MAP	TOTAL_RUN	36496813000
+MAP	READ	6667398000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	8376964
+MAP	VALUE_BYTE_COUNT	133192678
+MAP	MAP	25615674000
+MAP	WRITE	10661055000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1154653000
+MAP	SERIALIZE_OUTPUT	3692279000
+MAP	MAP_MEM	217723760
+SPILL	SORT_AND_SPILL	54710230000
+SPILL	QUICK_SORT	3110457000
+SPILL	SORT_COUNT	1025066
+SPILL	COMBINE	0
+SPILL	WRITE	51599773000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	149830775
+SPILL	COMPRESS_BYTE_COUNT	45989055
+MERGE	TOTAL_MERGE	1800000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	91931215000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.19	0
+MAP	STARTUP_MEM	213531848
+MAP	SETUP	5181000
+MAP	SETUP_MEM	214827328
+MAP	CLEANUP	91000
+MAP	CLEANUP_MEM	221160848
+MAP	TOTAL_RUN	36852835933
+MAP	READ	9615503000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9227340
+MAP	VALUE_BYTE_COUNT	133192473
+MAP	MAP	21555800933
+MAP	WRITE	8290623933
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1102814000
+MAP	SERIALIZE_OUTPUT	2126356933
+MAP	MAP_MEM	221160848
+SPILL	SORT_AND_SPILL	51128192000
+SPILL	QUICK_SORT	4838251000
+SPILL	SORT_COUNT	1025260
+SPILL	COMBINE	0
+SPILL	WRITE	46289941000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	149832251
+SPILL	COMPRESS_BYTE_COUNT	45998454
+MERGE	TOTAL_MERGE	1664000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	88753432933
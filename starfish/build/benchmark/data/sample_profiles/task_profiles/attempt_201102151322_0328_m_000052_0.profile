@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.19	0
+MAP	STARTUP_MEM	213549336
+MAP	SETUP	17628000
+MAP	SETUP_MEM	214872280
+MAP	CLEANUP	90000
+MAP	CLEANUP_MEM	219425128
+MAP	TOTAL_RUN	39747681000
+MAP	READ	6552350000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9225603
+MAP	VALUE_BYTE_COUNT	133192680
+MAP	MAP	26556423000
+MAP	WRITE	8652527000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1504963000
+MAP	SERIALIZE_OUTPUT	3002469000
+MAP	MAP_MEM	219987288
+SPILL	SORT_AND_SPILL	50631140000
+SPILL	QUICK_SORT	1787819000
+SPILL	SORT_COUNT	1025067
+SPILL	COMBINE	0
+SPILL	WRITE	48843321000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	149830975
+SPILL	COMPRESS_BYTE_COUNT	45984103
+MERGE	TOTAL_MERGE	1630000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	90844171000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.19	0
+MAP	STARTUP_MEM	212676568
+MAP	SETUP	3561000
+MAP	SETUP_MEM	213963624
+MAP	CLEANUP	91000
+MAP	CLEANUP_MEM	219679760
+MAP	TOTAL_RUN	47592200865
+MAP	READ	9186876865
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9225702
+MAP	VALUE_BYTE_COUNT	133192717
+MAP	MAP	30540560000
+MAP	WRITE	11861923000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	2346283000
+MAP	SERIALIZE_OUTPUT	4274181000
+MAP	MAP_MEM	219679760
+SPILL	SORT_AND_SPILL	50822291588
+SPILL	QUICK_SORT	3524978000
+SPILL	SORT_COUNT	1025078
+SPILL	COMBINE	0
+SPILL	WRITE	47297313588
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	149830541
+SPILL	COMPRESS_BYTE_COUNT	45991151
+MERGE	TOTAL_MERGE	11090000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	100649724453
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.19	0
+MAP	STARTUP_MEM	213512224
+MAP	SETUP	5518000
+MAP	SETUP_MEM	214793368
+MAP	CLEANUP	88000
+MAP	CLEANUP_MEM	219199600
+MAP	TOTAL_RUN	35409130000
+MAP	READ	7746413000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9227448
+MAP	VALUE_BYTE_COUNT	133192468
+MAP	MAP	23077204000
+MAP	WRITE	8838474000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1034516000
+MAP	SERIALIZE_OUTPUT	3243951000
+MAP	MAP_MEM	219761760
+SPILL	SORT_AND_SPILL	35627756000
+SPILL	QUICK_SORT	1667272000
+SPILL	SORT_COUNT	1025272
+SPILL	COMBINE	0
+SPILL	WRITE	33960484000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	149832553
+SPILL	COMPRESS_BYTE_COUNT	45994342
+MERGE	TOTAL_MERGE	1711000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	71524961000
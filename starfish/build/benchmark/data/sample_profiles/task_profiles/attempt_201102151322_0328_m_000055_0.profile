@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.2	0
+MAP	STARTUP_MEM	213521352
+MAP	SETUP	3368000
+MAP	SETUP_MEM	213521352
+MAP	CLEANUP	101000
+MAP	CLEANUP_MEM	235322560
+MAP	TOTAL_RUN	25859681000
+MAP	READ	4099673000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	8508106
+MAP	VALUE_BYTE_COUNT	133176642
+MAP	MAP	18035226000
+MAP	WRITE	6023925000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	970300000
+MAP	SERIALIZE_OUTPUT	2481749000
+MAP	MAP_MEM	235322560
+SPILL	SORT_AND_SPILL	54911841000
+SPILL	QUICK_SORT	4596245000
+SPILL	SORT_COUNT	1041110
+SPILL	COMBINE	0
+SPILL	WRITE	50315596000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	147869657
+SPILL	COMPRESS_BYTE_COUNT	46556426
+MERGE	TOTAL_MERGE	1662000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	81193075000
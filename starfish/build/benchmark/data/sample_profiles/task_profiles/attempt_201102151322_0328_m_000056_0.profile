@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.2	0
+MAP	STARTUP_MEM	213558184
+MAP	SETUP	3726000
+MAP	SETUP_MEM	214881128
+MAP	CLEANUP	97000
+MAP	CLEANUP_MEM	234917800
+MAP	TOTAL_RUN	34237811293
+MAP	READ	5456218293
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9369171
+MAP	VALUE_BYTE_COUNT	133176783
+MAP	MAP	23666494000
+MAP	WRITE	7271932000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1372530000
+MAP	SERIALIZE_OUTPUT	2537887000
+MAP	MAP_MEM	235479960
+SPILL	SORT_AND_SPILL	55298242292
+SPILL	QUICK_SORT	1631907000
+SPILL	SORT_COUNT	1041019
+SPILL	COMBINE	0
+SPILL	WRITE	53666335292
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	147869315
+SPILL	COMPRESS_BYTE_COUNT	46550335
+MERGE	TOTAL_MERGE	1665000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	90616635585
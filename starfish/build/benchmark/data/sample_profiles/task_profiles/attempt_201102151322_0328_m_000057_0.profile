@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.2	0
+MAP	STARTUP_MEM	213538472
+MAP	SETUP	5400000
+MAP	SETUP_MEM	214831648
+MAP	CLEANUP	96000
+MAP	CLEANUP_MEM	234833368
+MAP	TOTAL_RUN	31501040000
+MAP	READ	4341785000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9369027
+MAP	VALUE_BYTE_COUNT	133176627
+MAP	MAP	22481576000
+MAP	WRITE	9021668000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	2375419000
+MAP	SERIALIZE_OUTPUT	2947384000
+MAP	MAP_MEM	235395528
+SPILL	SORT_AND_SPILL	68974511524
+SPILL	QUICK_SORT	1612332000
+SPILL	SORT_COUNT	1041003
+SPILL	COMBINE	0
+SPILL	WRITE	67362179524
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	147869316
+SPILL	COMPRESS_BYTE_COUNT	46555130
+MERGE	TOTAL_MERGE	13591000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	101931851524
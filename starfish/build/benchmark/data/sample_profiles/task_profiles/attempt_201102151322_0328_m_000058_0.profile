@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.2	0
+MAP	STARTUP_MEM	213531176
+MAP	SETUP	9876000
+MAP	SETUP_MEM	214835968
+MAP	CLEANUP	91000
+MAP	CLEANUP_MEM	234863056
+MAP	TOTAL_RUN	52266067000
+MAP	READ	9626029000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9357273
+MAP	VALUE_BYTE_COUNT	133178080
+MAP	MAP	28746621000
+MAP	WRITE	7786459000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1416138000
+MAP	SERIALIZE_OUTPUT	2341746000
+MAP	MAP_MEM	235425216
+SPILL	SORT_AND_SPILL	48879541000
+SPILL	QUICK_SORT	4301437000
+SPILL	SORT_COUNT	1039697
+SPILL	COMBINE	0
+SPILL	WRITE	44578104000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	148026821
+SPILL	COMPRESS_BYTE_COUNT	46510802
+MERGE	TOTAL_MERGE	1722000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	102543961000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.2	0
+MAP	STARTUP_MEM	212685008
+MAP	SETUP	11392000
+MAP	SETUP_MEM	214836128
+MAP	CLEANUP	95000
+MAP	CLEANUP_MEM	229166496
+MAP	TOTAL_RUN	55238257293
+MAP	READ	12441590293
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9297180
+MAP	VALUE_BYTE_COUNT	133184717
+MAP	MAP	34217763000
+MAP	WRITE	14379185000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	3095891000
+MAP	SERIALIZE_OUTPUT	3081131000
+MAP	MAP_MEM	229166496
+SPILL	SORT_AND_SPILL	57994245292
+SPILL	QUICK_SORT	1742159000
+SPILL	SORT_COUNT	1033020
+SPILL	COMBINE	0
+SPILL	WRITE	56252086292
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	148858243
+SPILL	COMPRESS_BYTE_COUNT	46267046
+MERGE	TOTAL_MERGE	1934000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	114304780585
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.20	0
+MAP	STARTUP_MEM	213547136
+MAP	SETUP	3386000
+MAP	SETUP_MEM	213547136
+MAP	CLEANUP	90000
+MAP	CLEANUP_MEM	219128840
+MAP	TOTAL_RUN	28454490000
+MAP	READ	3804897000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	8377579
+MAP	VALUE_BYTE_COUNT	133192620
+MAP	MAP	17310152000
+MAP	WRITE	5550213000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	930397000
+MAP	SERIALIZE_OUTPUT	2140176000
+MAP	MAP_MEM	219128840
+SPILL	SORT_AND_SPILL	40214006000
+SPILL	QUICK_SORT	2328019000
+SPILL	SORT_COUNT	1025142
+SPILL	COMBINE	0
+SPILL	WRITE	37885987000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	149832416
+SPILL	COMPRESS_BYTE_COUNT	45988410
+MERGE	TOTAL_MERGE	1654000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	70112475000
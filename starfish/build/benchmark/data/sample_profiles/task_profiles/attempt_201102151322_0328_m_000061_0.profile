@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.20	0
+MAP	STARTUP_MEM	212698240
+MAP	SETUP	10942000
+MAP	SETUP_MEM	214881368
+MAP	CLEANUP	108000
+MAP	CLEANUP_MEM	219141752
+MAP	TOTAL_RUN	43443383000
+MAP	READ	9670244000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9225540
+MAP	VALUE_BYTE_COUNT	133192669
+MAP	MAP	24629827000
+MAP	WRITE	10054286000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1590376000
+MAP	SERIALIZE_OUTPUT	2401869000
+MAP	MAP_MEM	219141752
+SPILL	SORT_AND_SPILL	48310835000
+SPILL	QUICK_SORT	1646438000
+SPILL	SORT_COUNT	1025060
+SPILL	COMBINE	0
+SPILL	WRITE	46664397000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	149831466
+SPILL	COMPRESS_BYTE_COUNT	45991054
+MERGE	TOTAL_MERGE	1603000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	92288505000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.20	0
+MAP	STARTUP_MEM	216796624
+MAP	SETUP	3385000
+MAP	SETUP_MEM	218106728
+MAP	CLEANUP	94000
+MAP	CLEANUP_MEM	218129800
+MAP	TOTAL_RUN	40827814000
+MAP	READ	9421175000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9225153
+MAP	VALUE_BYTE_COUNT	133192789
+MAP	MAP	23888443000
+MAP	WRITE	8332360000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1537555000
+MAP	SERIALIZE_OUTPUT	2570041000
+MAP	MAP_MEM	218129800
+SPILL	SORT_AND_SPILL	43263533000
+SPILL	QUICK_SORT	2889974000
+SPILL	SORT_COUNT	1025017
+SPILL	COMBINE	0
+SPILL	WRITE	40373559000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	149830878
+SPILL	COMPRESS_BYTE_COUNT	45982930
+MERGE	TOTAL_MERGE	1680000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	95554896000
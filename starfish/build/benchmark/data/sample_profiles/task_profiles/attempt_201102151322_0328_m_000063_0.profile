@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.20	0
+MAP	STARTUP_MEM	217054704
+MAP	SETUP	3658000
+MAP	SETUP_MEM	218379624
+MAP	CLEANUP	103000
+MAP	CLEANUP_MEM	223572632
+MAP	TOTAL_RUN	46321162000
+MAP	READ	9153873000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9226638
+MAP	VALUE_BYTE_COUNT	133192527
+MAP	MAP	29703868000
+MAP	WRITE	11839330000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	952950000
+MAP	SERIALIZE_OUTPUT	6608775000
+MAP	MAP_MEM	223572632
+SPILL	SORT_AND_SPILL	43439316000
+SPILL	QUICK_SORT	3609224000
+SPILL	SORT_COUNT	1025182
+SPILL	COMBINE	0
+SPILL	WRITE	39830092000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	149831925
+SPILL	COMPRESS_BYTE_COUNT	45991357
+MERGE	TOTAL_MERGE	1647000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	94497533000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.20	0
+MAP	STARTUP_MEM	213581960
+MAP	SETUP	30252000
+MAP	SETUP_MEM	214896424
+MAP	CLEANUP	97000
+MAP	CLEANUP_MEM	217929816
+MAP	TOTAL_RUN	37026361000
+MAP	READ	11316578000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9226620
+MAP	VALUE_BYTE_COUNT	133192548
+MAP	MAP	19555925000
+MAP	WRITE	6646120000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	989817000
+MAP	SERIALIZE_OUTPUT	2122534000
+MAP	MAP_MEM	217929816
+SPILL	SORT_AND_SPILL	47345571000
+SPILL	QUICK_SORT	1876420000
+SPILL	SORT_COUNT	1025180
+SPILL	COMBINE	0
+SPILL	WRITE	45469151000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	149832275
+SPILL	COMPRESS_BYTE_COUNT	45989439
+MERGE	TOTAL_MERGE	1703000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	86473505000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.21	0
+MAP	STARTUP_MEM	212675576
+MAP	SETUP	3484000
+MAP	SETUP_MEM	213531216
+MAP	CLEANUP	96000
+MAP	CLEANUP_MEM	219167112
+MAP	TOTAL_RUN	45077403865
+MAP	READ	6019662865
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	8379235
+MAP	VALUE_BYTE_COUNT	133192497
+MAP	MAP	32270770000
+MAP	WRITE	12332440000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1328894000
+MAP	SERIALIZE_OUTPUT	4084087000
+MAP	MAP_MEM	219729272
+SPILL	SORT_AND_SPILL	46325302588
+SPILL	QUICK_SORT	1626732000
+SPILL	SORT_COUNT	1025339
+SPILL	COMBINE	0
+SPILL	WRITE	44698570588
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	149833630
+SPILL	COMPRESS_BYTE_COUNT	45996854
+MERGE	TOTAL_MERGE	1683000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	91801068453
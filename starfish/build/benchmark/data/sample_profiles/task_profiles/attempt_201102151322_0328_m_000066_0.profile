@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.21	0
+MAP	STARTUP_MEM	212693440
+MAP	SETUP	4097000
+MAP	SETUP_MEM	214007272
+MAP	CLEANUP	92000
+MAP	CLEANUP_MEM	219731912
+MAP	TOTAL_RUN	40386899000
+MAP	READ	5503957000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9227547
+MAP	VALUE_BYTE_COUNT	133192402
+MAP	MAP	29102722000
+MAP	WRITE	9134535000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1757958000
+MAP	SERIALIZE_OUTPUT	2946855000
+MAP	MAP_MEM	219731912
+SPILL	SORT_AND_SPILL	32561136000
+SPILL	QUICK_SORT	1755575000
+SPILL	SORT_COUNT	1025283
+SPILL	COMBINE	0
+SPILL	WRITE	30805561000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	149832198
+SPILL	COMPRESS_BYTE_COUNT	45993798
+MERGE	TOTAL_MERGE	1668000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	73469489000
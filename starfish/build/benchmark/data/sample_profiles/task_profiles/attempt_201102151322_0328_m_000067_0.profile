@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.21	0
+MAP	STARTUP_MEM	213523416
+MAP	SETUP	27970000
+MAP	SETUP_MEM	214811592
+MAP	CLEANUP	104000
+MAP	CLEANUP_MEM	219678704
+MAP	TOTAL_RUN	34176535000
+MAP	READ	5159726000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9227259
+MAP	VALUE_BYTE_COUNT	133192422
+MAP	MAP	23127245000
+MAP	WRITE	7714049000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1352171000
+MAP	SERIALIZE_OUTPUT	2619156000
+MAP	MAP_MEM	219678704
+SPILL	SORT_AND_SPILL	43616889000
+SPILL	QUICK_SORT	3716214000
+SPILL	SORT_COUNT	1025251
+SPILL	COMBINE	0
+SPILL	WRITE	39900675000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	149831588
+SPILL	COMPRESS_BYTE_COUNT	45995657
+MERGE	TOTAL_MERGE	1737000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	78300638000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.21	0
+MAP	STARTUP_MEM	212666936
+MAP	SETUP	11779000
+MAP	SETUP_MEM	213954392
+MAP	CLEANUP	101000
+MAP	CLEANUP_MEM	219170552
+MAP	TOTAL_RUN	50246002524
+MAP	READ	8460063000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9226503
+MAP	VALUE_BYTE_COUNT	133192618
+MAP	MAP	31979916524
+MAP	WRITE	13226841000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	3453333000
+MAP	SERIALIZE_OUTPUT	4145819000
+MAP	MAP_MEM	219732712
+SPILL	SORT_AND_SPILL	42076107220
+SPILL	QUICK_SORT	2342019000
+SPILL	SORT_COUNT	1025167
+SPILL	COMBINE	0
+SPILL	WRITE	39734088220
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	149832195
+SPILL	COMPRESS_BYTE_COUNT	45989852
+MERGE	TOTAL_MERGE	1614000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	92873209744
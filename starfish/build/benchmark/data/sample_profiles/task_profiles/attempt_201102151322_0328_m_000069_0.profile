@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.21	0
+MAP	STARTUP_MEM	212693336
+MAP	SETUP	4287000
+MAP	SETUP_MEM	214862808
+MAP	CLEANUP	98000
+MAP	CLEANUP_MEM	219198752
+MAP	TOTAL_RUN	31083729000
+MAP	READ	4976188000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9226845
+MAP	VALUE_BYTE_COUNT	133192585
+MAP	MAP	22665883000
+MAP	WRITE	6194337000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	985083000
+MAP	SERIALIZE_OUTPUT	2361295000
+MAP	MAP_MEM	219198752
+SPILL	SORT_AND_SPILL	58560396000
+SPILL	QUICK_SORT	1899418000
+SPILL	SORT_COUNT	1025205
+SPILL	COMBINE	0
+SPILL	WRITE	56660978000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	149832262
+SPILL	COMPRESS_BYTE_COUNT	45988848
+MERGE	TOTAL_MERGE	1718000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	92286200000
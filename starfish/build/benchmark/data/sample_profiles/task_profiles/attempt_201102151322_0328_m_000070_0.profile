@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.22	0
+MAP	STARTUP_MEM	213531168
+MAP	SETUP	8472000
+MAP	SETUP_MEM	213531168
+MAP	CLEANUP	125000
+MAP	CLEANUP_MEM	218302512
+MAP	TOTAL_RUN	25994253011
+MAP	READ	3795320011
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	8378515
+MAP	VALUE_BYTE_COUNT	133192543
+MAP	MAP	18525270000
+MAP	WRITE	5900982000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1208750000
+MAP	SERIALIZE_OUTPUT	2283299000
+MAP	MAP_MEM	218302512
+SPILL	SORT_AND_SPILL	40699848000
+SPILL	QUICK_SORT	2530113000
+SPILL	SORT_COUNT	1025253
+SPILL	COMBINE	0
+SPILL	WRITE	38169735000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	149832694
+SPILL	COMPRESS_BYTE_COUNT	45993481
+MERGE	TOTAL_MERGE	1617000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	68993620011
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.22	0
+MAP	STARTUP_MEM	212679688
+MAP	SETUP	34919000
+MAP	SETUP_MEM	214834248
+MAP	CLEANUP	96000
+MAP	CLEANUP_MEM	219135488
+MAP	TOTAL_RUN	30156840220
+MAP	READ	4512495000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9226737
+MAP	VALUE_BYTE_COUNT	133192575
+MAP	MAP	20565403220
+MAP	WRITE	7531107000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1763220000
+MAP	SERIALIZE_OUTPUT	2471298000
+MAP	MAP_MEM	219135488
+SPILL	SORT_AND_SPILL	68444931371
+SPILL	QUICK_SORT	1835670000
+SPILL	SORT_COUNT	1025193
+SPILL	COMBINE	0
+SPILL	WRITE	66609261371
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	149831673
+SPILL	COMPRESS_BYTE_COUNT	45991440
+MERGE	TOTAL_MERGE	21355000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	99183140591
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.22	0
+MAP	STARTUP_MEM	213557456
+MAP	SETUP	6130000
+MAP	SETUP_MEM	214879712
+MAP	CLEANUP	105000
+MAP	CLEANUP_MEM	220591704
+MAP	TOTAL_RUN	43215802000
+MAP	READ	7908395000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9227556
+MAP	VALUE_BYTE_COUNT	133192464
+MAP	MAP	28289151000
+MAP	WRITE	11657255000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1706738000
+MAP	SERIALIZE_OUTPUT	4007833000
+MAP	MAP_MEM	221153864
+SPILL	SORT_AND_SPILL	37687749000
+SPILL	QUICK_SORT	2266340000
+SPILL	SORT_COUNT	1025284
+SPILL	COMBINE	0
+SPILL	WRITE	35421409000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	149832331
+SPILL	COMPRESS_BYTE_COUNT	45990832
+MERGE	TOTAL_MERGE	1745000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	81433882000
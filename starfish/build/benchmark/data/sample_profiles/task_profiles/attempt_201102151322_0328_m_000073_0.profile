@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.22	0
+MAP	STARTUP_MEM	212689832
+MAP	SETUP	3650000
+MAP	SETUP_MEM	214008816
+MAP	CLEANUP	94000
+MAP	CLEANUP_MEM	220569088
+MAP	TOTAL_RUN	50061247584
+MAP	READ	11463087000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9226899
+MAP	VALUE_BYTE_COUNT	133192457
+MAP	MAP	29237808584
+MAP	WRITE	10455126584
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1256924000
+MAP	SERIALIZE_OUTPUT	3886800000
+MAP	MAP_MEM	220569088
+SPILL	SORT_AND_SPILL	67172449889
+SPILL	QUICK_SORT	3764228000
+SPILL	SORT_COUNT	1025211
+SPILL	COMBINE	0
+SPILL	WRITE	63408221889
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	149832022
+SPILL	COMPRESS_BYTE_COUNT	45994724
+MERGE	TOTAL_MERGE	10004000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	118004156473
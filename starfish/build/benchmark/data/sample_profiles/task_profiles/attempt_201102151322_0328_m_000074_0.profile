@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.22	0
+MAP	STARTUP_MEM	213531824
+MAP	SETUP	5563000
+MAP	SETUP_MEM	214827304
+MAP	CLEANUP	89000
+MAP	CLEANUP_MEM	219731360
+MAP	TOTAL_RUN	26002026011
+MAP	READ	4738840000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9226935
+MAP	VALUE_BYTE_COUNT	133192466
+MAP	MAP	17589790011
+MAP	WRITE	5655966000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1081697000
+MAP	SERIALIZE_OUTPUT	2084502000
+MAP	MAP_MEM	219731360
+SPILL	SORT_AND_SPILL	39495384000
+SPILL	QUICK_SORT	1801737000
+SPILL	SORT_COUNT	1025215
+SPILL	COMBINE	0
+SPILL	WRITE	37693647000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	149831972
+SPILL	COMPRESS_BYTE_COUNT	45989165
+MERGE	TOTAL_MERGE	1642000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	65970123011
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.23	0
+MAP	STARTUP_MEM	213540016
+MAP	SETUP	9290000
+MAP	SETUP_MEM	213540016
+MAP	CLEANUP	105000
+MAP	CLEANUP_MEM	219811008
+MAP	TOTAL_RUN	59056289496
+MAP	READ	10395396000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	8377652
+MAP	VALUE_BYTE_COUNT	133192583
+MAP	MAP	39021286496
+MAP	WRITE	18829566000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	5453705000
+MAP	SERIALIZE_OUTPUT	5524459000
+MAP	MAP_MEM	219811008
+SPILL	SORT_AND_SPILL	52640082432
+SPILL	QUICK_SORT	3541424000
+SPILL	SORT_COUNT	1025149
+SPILL	COMBINE	0
+SPILL	WRITE	49098658432
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	149831667
+SPILL	COMPRESS_BYTE_COUNT	45993249
+MERGE	TOTAL_MERGE	1769000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	115158733928
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.23	0
+MAP	STARTUP_MEM	213546232
+MAP	SETUP	3909000
+MAP	SETUP_MEM	214847168
+MAP	CLEANUP	102000
+MAP	CLEANUP_MEM	219712448
+MAP	TOTAL_RUN	36883451000
+MAP	READ	7535413000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9226584
+MAP	VALUE_BYTE_COUNT	133192586
+MAP	MAP	23528939000
+MAP	WRITE	8128052000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	2110385000
+MAP	SERIALIZE_OUTPUT	2412166000
+MAP	MAP_MEM	219712448
+SPILL	SORT_AND_SPILL	39483122000
+SPILL	QUICK_SORT	3889281000
+SPILL	SORT_COUNT	1025176
+SPILL	COMBINE	0
+SPILL	WRITE	35593841000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	149832004
+SPILL	COMPRESS_BYTE_COUNT	45992985
+MERGE	TOTAL_MERGE	1879000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	76897118000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.23	0
+MAP	STARTUP_MEM	212676480
+MAP	SETUP	14713000
+MAP	SETUP_MEM	214827896
+MAP	CLEANUP	100000
+MAP	CLEANUP_MEM	219678472
+MAP	TOTAL_RUN	36537475000
+MAP	READ	6502257000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9226413
+MAP	VALUE_BYTE_COUNT	133192604
+MAP	MAP	23020327000
+MAP	WRITE	9104583000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1595739000
+MAP	SERIALIZE_OUTPUT	2902072000
+MAP	MAP_MEM	219678472
+SPILL	SORT_AND_SPILL	55998983293
+SPILL	QUICK_SORT	3579508000
+SPILL	SORT_COUNT	1025157
+SPILL	COMBINE	0
+SPILL	WRITE	52419475293
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	149832159
+SPILL	COMPRESS_BYTE_COUNT	45993148
+MERGE	TOTAL_MERGE	1700000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	93027459293
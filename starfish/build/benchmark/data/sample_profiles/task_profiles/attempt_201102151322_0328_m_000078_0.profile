@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.23	0
+MAP	STARTUP_MEM	212670680
+MAP	SETUP	6883000
+MAP	SETUP_MEM	214816304
+MAP	CLEANUP	97000
+MAP	CLEANUP_MEM	219139248
+MAP	TOTAL_RUN	46609855584
+MAP	READ	7803326000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9226602
+MAP	VALUE_BYTE_COUNT	133192526
+MAP	MAP	31314037584
+MAP	WRITE	12992229000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1706366000
+MAP	SERIALIZE_OUTPUT	4237960000
+MAP	MAP_MEM	219139248
+SPILL	SORT_AND_SPILL	61447424888
+SPILL	QUICK_SORT	2389162000
+SPILL	SORT_COUNT	1025178
+SPILL	COMBINE	0
+SPILL	WRITE	59058262888
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	149832741
+SPILL	COMPRESS_BYTE_COUNT	45995367
+MERGE	TOTAL_MERGE	1669000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	110077604472
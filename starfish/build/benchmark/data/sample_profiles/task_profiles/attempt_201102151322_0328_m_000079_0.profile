@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.23	0
+MAP	STARTUP_MEM	212689728
+MAP	SETUP	3379000
+MAP	SETUP_MEM	214008704
+MAP	CLEANUP	115000
+MAP	CLEANUP_MEM	219144632
+MAP	TOTAL_RUN	36478031000
+MAP	READ	8490779000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9226080
+MAP	VALUE_BYTE_COUNT	133192648
+MAP	MAP	23481946000
+MAP	WRITE	8690928000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1124071000
+MAP	SERIALIZE_OUTPUT	2733156000
+MAP	MAP_MEM	219144632
+SPILL	SORT_AND_SPILL	48984317000
+SPILL	QUICK_SORT	2033176000
+SPILL	SORT_COUNT	1025120
+SPILL	COMBINE	0
+SPILL	WRITE	46951141000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	149830983
+SPILL	COMPRESS_BYTE_COUNT	45988265
+MERGE	TOTAL_MERGE	1616000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	86903698000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.24	0
+MAP	STARTUP_MEM	213543952
+MAP	SETUP	101654000
+MAP	SETUP_MEM	213543952
+MAP	CLEANUP	95000
+MAP	CLEANUP_MEM	219698960
+MAP	TOTAL_RUN	36693337584
+MAP	READ	6175293000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	8377694
+MAP	VALUE_BYTE_COUNT	133192699
+MAP	MAP	24874641584
+MAP	WRITE	8423831000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1333916000
+MAP	SERIALIZE_OUTPUT	2886784000
+MAP	MAP_MEM	219698960
+SPILL	SORT_AND_SPILL	48458352888
+SPILL	QUICK_SORT	6142143000
+SPILL	SORT_COUNT	1025157
+SPILL	COMBINE	0
+SPILL	WRITE	42316209888
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	149831753
+SPILL	COMPRESS_BYTE_COUNT	45992692
+MERGE	TOTAL_MERGE	121711000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	85979068472
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.24	0
+MAP	STARTUP_MEM	212655680
+MAP	SETUP	5104000
+MAP	SETUP_MEM	213935896
+MAP	CLEANUP	98000
+MAP	CLEANUP_MEM	219686944
+MAP	TOTAL_RUN	24622638000
+MAP	READ	3671013000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9226476
+MAP	VALUE_BYTE_COUNT	133192488
+MAP	MAP	17352423000
+MAP	WRITE	5841061000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1363248000
+MAP	SERIALIZE_OUTPUT	2100625000
+MAP	MAP_MEM	219686944
+SPILL	SORT_AND_SPILL	32044528000
+SPILL	QUICK_SORT	1693028000
+SPILL	SORT_COUNT	1025164
+SPILL	COMBINE	0
+SPILL	WRITE	30351500000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	149831290
+SPILL	COMPRESS_BYTE_COUNT	45997386
+MERGE	TOTAL_MERGE	1774000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	59070080000
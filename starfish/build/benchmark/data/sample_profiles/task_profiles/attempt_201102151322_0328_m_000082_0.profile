@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.24	0
+MAP	STARTUP_MEM	213526632
+MAP	SETUP	3397000
+MAP	SETUP_MEM	214816816
+MAP	CLEANUP	103000
+MAP	CLEANUP_MEM	220649040
+MAP	TOTAL_RUN	59530246000
+MAP	READ	8551928000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9226206
+MAP	VALUE_BYTE_COUNT	133192574
+MAP	MAP	37114204000
+MAP	WRITE	16983747000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	4132923000
+MAP	SERIALIZE_OUTPUT	4022613000
+MAP	MAP_MEM	221211200
+SPILL	SORT_AND_SPILL	47170019000
+SPILL	QUICK_SORT	2913624000
+SPILL	SORT_COUNT	1025134
+SPILL	COMBINE	0
+SPILL	WRITE	44256395000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	149831056
+SPILL	COMPRESS_BYTE_COUNT	45996641
+MERGE	TOTAL_MERGE	1646000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	107263607000
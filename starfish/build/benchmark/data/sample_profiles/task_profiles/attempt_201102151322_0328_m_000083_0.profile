@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.24	0
+MAP	STARTUP_MEM	213531840
+MAP	SETUP	3561000
+MAP	SETUP_MEM	214827320
+MAP	CLEANUP	107000
+MAP	CLEANUP_MEM	219734736
+MAP	TOTAL_RUN	37229751000
+MAP	READ	5788080000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9227286
+MAP	VALUE_BYTE_COUNT	133192541
+MAP	MAP	25487684000
+MAP	WRITE	8554668000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1295013000
+MAP	SERIALIZE_OUTPUT	3818292000
+MAP	MAP_MEM	219734736
+SPILL	SORT_AND_SPILL	52046584000
+SPILL	QUICK_SORT	2591370000
+SPILL	SORT_COUNT	1025254
+SPILL	COMBINE	0
+SPILL	WRITE	49455214000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	149832485
+SPILL	COMPRESS_BYTE_COUNT	45993413
+MERGE	TOTAL_MERGE	1702000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	89842913000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.24	0
+MAP	STARTUP_MEM	215213384
+MAP	SETUP	3882000
+MAP	SETUP_MEM	216503184
+MAP	CLEANUP	97000
+MAP	CLEANUP_MEM	219044168
+MAP	TOTAL_RUN	29610639000
+MAP	READ	4892343000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9227322
+MAP	VALUE_BYTE_COUNT	133192423
+MAP	MAP	20072755000
+MAP	WRITE	6634747000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1181268000
+MAP	SERIALIZE_OUTPUT	2025618000
+MAP	MAP_MEM	219044168
+SPILL	SORT_AND_SPILL	46007297496
+SPILL	QUICK_SORT	1771065496
+SPILL	SORT_COUNT	1025258
+SPILL	COMBINE	0
+SPILL	WRITE	44236232000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	149832463
+SPILL	COMPRESS_BYTE_COUNT	45999365
+MERGE	TOTAL_MERGE	1618000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	78228286496
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.25	0
+MAP	STARTUP_MEM	212687568
+MAP	SETUP	3251000
+MAP	SETUP_MEM	212687568
+MAP	CLEANUP	103000
+MAP	CLEANUP_MEM	222138768
+MAP	TOTAL_RUN	50408418000
+MAP	READ	21818019000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	8376869
+MAP	VALUE_BYTE_COUNT	133192689
+MAP	MAP	25032451000
+MAP	WRITE	10883193000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1440304000
+MAP	SERIALIZE_OUTPUT	7171031000
+MAP	MAP_MEM	222138768
+SPILL	SORT_AND_SPILL	40986520000
+SPILL	QUICK_SORT	1800184000
+SPILL	SORT_COUNT	1025053
+SPILL	COMBINE	0
+SPILL	WRITE	39186336000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	149830530
+SPILL	COMPRESS_BYTE_COUNT	45988800
+MERGE	TOTAL_MERGE	1905000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	92039366000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.25	0
+MAP	STARTUP_MEM	212687664
+MAP	SETUP	5231000
+MAP	SETUP_MEM	214004560
+MAP	CLEANUP	90000
+MAP	CLEANUP_MEM	221209208
+MAP	TOTAL_RUN	45447360000
+MAP	READ	12650976000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9228078
+MAP	VALUE_BYTE_COUNT	133192399
+MAP	MAP	24793072000
+MAP	WRITE	11483726000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	2968392000
+MAP	SERIALIZE_OUTPUT	3516267000
+MAP	MAP_MEM	221209208
+SPILL	SORT_AND_SPILL	38459504000
+SPILL	QUICK_SORT	2462590000
+SPILL	SORT_COUNT	1025342
+SPILL	COMBINE	0
+SPILL	WRITE	35996914000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	149833544
+SPILL	COMPRESS_BYTE_COUNT	45993631
+MERGE	TOTAL_MERGE	11530000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	88417173000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.25	0
+MAP	STARTUP_MEM	212667752
+MAP	SETUP	3651000
+MAP	SETUP_MEM	213954808
+MAP	CLEANUP	97000
+MAP	CLEANUP_MEM	219173768
+MAP	TOTAL_RUN	25060225000
+MAP	READ	3466047000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9226440
+MAP	VALUE_BYTE_COUNT	133192604
+MAP	MAP	17896906000
+MAP	WRITE	5385844000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	921070000
+MAP	SERIALIZE_OUTPUT	2100130000
+MAP	MAP_MEM	219735928
+SPILL	SORT_AND_SPILL	31439517000
+SPILL	QUICK_SORT	1755550000
+SPILL	SORT_COUNT	1025160
+SPILL	COMBINE	0
+SPILL	WRITE	29683967000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	149832595
+SPILL	COMPRESS_BYTE_COUNT	45992164
+MERGE	TOTAL_MERGE	1688000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	57766127000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.25	0
+MAP	STARTUP_MEM	213553896
+MAP	SETUP	5083000
+MAP	SETUP_MEM	214881384
+MAP	CLEANUP	92000
+MAP	CLEANUP_MEM	220562976
+MAP	TOTAL_RUN	46668509000
+MAP	READ	8269006000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9228006
+MAP	VALUE_BYTE_COUNT	133192353
+MAP	MAP	31200467000
+MAP	WRITE	13522868000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	3998547000
+MAP	SERIALIZE_OUTPUT	4563510000
+MAP	MAP_MEM	221125136
+SPILL	SORT_AND_SPILL	48519978000
+SPILL	QUICK_SORT	1669286000
+SPILL	SORT_COUNT	1025334
+SPILL	COMBINE	0
+SPILL	WRITE	46850692000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	149832911
+SPILL	COMPRESS_BYTE_COUNT	45993145
+MERGE	TOTAL_MERGE	1617000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	95651936000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.25	0
+MAP	STARTUP_MEM	212698176
+MAP	SETUP	3400000
+MAP	SETUP_MEM	214025608
+MAP	CLEANUP	98000
+MAP	CLEANUP_MEM	219150800
+MAP	TOTAL_RUN	45521370000
+MAP	READ	11232377000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9225207
+MAP	VALUE_BYTE_COUNT	133192833
+MAP	MAP	28691015000
+MAP	WRITE	8849824000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1089670000
+MAP	SERIALIZE_OUTPUT	2039647000
+MAP	MAP_MEM	219150800
+SPILL	SORT_AND_SPILL	48239508000
+SPILL	QUICK_SORT	3043158000
+SPILL	SORT_COUNT	1025023
+SPILL	COMBINE	0
+SPILL	WRITE	45196350000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	149831384
+SPILL	COMPRESS_BYTE_COUNT	45985868
+MERGE	TOTAL_MERGE	1599000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	94812138000
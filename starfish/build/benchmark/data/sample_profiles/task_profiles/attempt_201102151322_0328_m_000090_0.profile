@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.26	0
+MAP	STARTUP_MEM	213523384
+MAP	SETUP	3506000
+MAP	SETUP_MEM	213523384
+MAP	CLEANUP	95000
+MAP	CLEANUP_MEM	217746752
+MAP	TOTAL_RUN	29401076000
+MAP	READ	4403651000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	8378680
+MAP	VALUE_BYTE_COUNT	133192522
+MAP	MAP	20191186000
+MAP	WRITE	7306763000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1490715000
+MAP	SERIALIZE_OUTPUT	2411739000
+MAP	MAP_MEM	217746752
+SPILL	SORT_AND_SPILL	53371765848
+SPILL	QUICK_SORT	2076999000
+SPILL	SORT_COUNT	1025275
+SPILL	COMBINE	0
+SPILL	WRITE	51294766848
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	149832555
+SPILL	COMPRESS_BYTE_COUNT	45995381
+MERGE	TOTAL_MERGE	1660000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	83187751848
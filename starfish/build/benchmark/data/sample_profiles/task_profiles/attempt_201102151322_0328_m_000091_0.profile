@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.26	0
+MAP	STARTUP_MEM	212689504
+MAP	SETUP	18297000
+MAP	SETUP_MEM	214863096
+MAP	CLEANUP	97000
+MAP	CLEANUP_MEM	219904848
+MAP	TOTAL_RUN	39394171000
+MAP	READ	7895528000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9226188
+MAP	VALUE_BYTE_COUNT	133192540
+MAP	MAP	27182495000
+MAP	WRITE	10829428000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	4252683000
+MAP	SERIALIZE_OUTPUT	2113784000
+MAP	MAP_MEM	219904848
+SPILL	SORT_AND_SPILL	49554278000
+SPILL	QUICK_SORT	2739729000
+SPILL	SORT_COUNT	1025132
+SPILL	COMBINE	0
+SPILL	WRITE	46814549000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	149832038
+SPILL	COMPRESS_BYTE_COUNT	45990784
+MERGE	TOTAL_MERGE	1687000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	89614113000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.26	0
+MAP	STARTUP_MEM	217560272
+MAP	SETUP	3501000
+MAP	SETUP_MEM	218852992
+MAP	CLEANUP	114000
+MAP	CLEANUP_MEM	220513680
+MAP	TOTAL_RUN	44031086000
+MAP	READ	11488813000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9226071
+MAP	VALUE_BYTE_COUNT	133192641
+MAP	MAP	22156815000
+MAP	WRITE	7772441000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1545043000
+MAP	SERIALIZE_OUTPUT	3087516000
+MAP	MAP_MEM	220513680
+SPILL	SORT_AND_SPILL	47675913000
+SPILL	QUICK_SORT	1709522000
+SPILL	SORT_COUNT	1025119
+SPILL	COMBINE	0
+SPILL	WRITE	45966391000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	149831040
+SPILL	COMPRESS_BYTE_COUNT	45986992
+MERGE	TOTAL_MERGE	11537000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	102771938000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.26	0
+MAP	STARTUP_MEM	212693024
+MAP	SETUP	3301000
+MAP	SETUP_MEM	214015280
+MAP	CLEANUP	98000
+MAP	CLEANUP_MEM	219166032
+MAP	TOTAL_RUN	53761241000
+MAP	READ	10610431000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9225999
+MAP	VALUE_BYTE_COUNT	133192578
+MAP	MAP	35644633000
+MAP	WRITE	16123516000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1111949000
+MAP	SERIALIZE_OUTPUT	7309338000
+MAP	MAP_MEM	219166032
+SPILL	SORT_AND_SPILL	38309238000
+SPILL	QUICK_SORT	6127513000
+SPILL	SORT_COUNT	1025111
+SPILL	COMBINE	0
+SPILL	WRITE	32181725000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	149831491
+SPILL	COMPRESS_BYTE_COUNT	45987160
+MERGE	TOTAL_MERGE	1775000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	95194886000
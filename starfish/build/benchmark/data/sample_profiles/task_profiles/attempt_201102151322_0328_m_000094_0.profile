@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.26	0
+MAP	STARTUP_MEM	212698296
+MAP	SETUP	3468000
+MAP	SETUP_MEM	214025784
+MAP	CLEANUP	88000
+MAP	CLEANUP_MEM	219139528
+MAP	TOTAL_RUN	36053198000
+MAP	READ	5858439000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9226611
+MAP	VALUE_BYTE_COUNT	133192651
+MAP	MAP	21817481000
+MAP	WRITE	6030024000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1027540000
+MAP	SERIALIZE_OUTPUT	2156019000
+MAP	MAP_MEM	219139528
+SPILL	SORT_AND_SPILL	61161341000
+SPILL	QUICK_SORT	4834150000
+SPILL	SORT_COUNT	1025179
+SPILL	COMBINE	0
+SPILL	WRITE	56327191000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	149832230
+SPILL	COMPRESS_BYTE_COUNT	45993110
+MERGE	TOTAL_MERGE	11650000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	98279456000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.27	0
+MAP	STARTUP_MEM	213553816
+MAP	SETUP	3551000
+MAP	SETUP_MEM	213553816
+MAP	CLEANUP	88000
+MAP	CLEANUP_MEM	219140344
+MAP	TOTAL_RUN	53087500000
+MAP	READ	21601994000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	8378357
+MAP	VALUE_BYTE_COUNT	133192554
+MAP	MAP	25821874000
+MAP	WRITE	12567812000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1019002000
+MAP	SERIALIZE_OUTPUT	6808830000
+MAP	MAP_MEM	219140344
+SPILL	SORT_AND_SPILL	44223360000
+SPILL	QUICK_SORT	2280005000
+SPILL	SORT_COUNT	1025229
+SPILL	COMBINE	0
+SPILL	WRITE	41943355000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	149831971
+SPILL	COMPRESS_BYTE_COUNT	45994659
+MERGE	TOTAL_MERGE	56478000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	99403273000
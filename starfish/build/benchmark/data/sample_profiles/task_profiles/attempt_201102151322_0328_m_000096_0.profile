@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.27	0
+MAP	STARTUP_MEM	213540176
+MAP	SETUP	3700000
+MAP	SETUP_MEM	214853968
+MAP	CLEANUP	118000
+MAP	CLEANUP_MEM	223103104
+MAP	TOTAL_RUN	59055215000
+MAP	READ	14752204000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9225423
+MAP	VALUE_BYTE_COUNT	133192627
+MAP	MAP	36125887000
+MAP	WRITE	16280616000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	2604458000
+MAP	SERIALIZE_OUTPUT	3817645000
+MAP	MAP_MEM	223103104
+SPILL	SORT_AND_SPILL	41928731928
+SPILL	QUICK_SORT	4713604000
+SPILL	SORT_COUNT	1025047
+SPILL	COMBINE	0
+SPILL	WRITE	37215127928
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	149830925
+SPILL	COMPRESS_BYTE_COUNT	45989672
+MERGE	TOTAL_MERGE	1673000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	102957764928
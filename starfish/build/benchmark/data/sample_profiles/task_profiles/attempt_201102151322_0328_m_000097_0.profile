@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.27	0
+MAP	STARTUP_MEM	213537952
+MAP	SETUP	3590000
+MAP	SETUP_MEM	214849472
+MAP	CLEANUP	100000
+MAP	CLEANUP_MEM	219716336
+MAP	TOTAL_RUN	31325821000
+MAP	READ	4536263000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9227097
+MAP	VALUE_BYTE_COUNT	133192534
+MAP	MAP	21932716000
+MAP	WRITE	6778274000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1220095000
+MAP	SERIALIZE_OUTPUT	2403705000
+MAP	MAP_MEM	219716336
+SPILL	SORT_AND_SPILL	44738711848
+SPILL	QUICK_SORT	3958370000
+SPILL	SORT_COUNT	1025233
+SPILL	COMBINE	0
+SPILL	WRITE	40780341848
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	149831904
+SPILL	COMPRESS_BYTE_COUNT	45992873
+MERGE	TOTAL_MERGE	1651000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	76575320848
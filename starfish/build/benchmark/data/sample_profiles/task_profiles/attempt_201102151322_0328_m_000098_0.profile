@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.27	0
+MAP	STARTUP_MEM	212690664
+MAP	SETUP	118034000
+MAP	SETUP_MEM	214007840
+MAP	CLEANUP	107000
+MAP	CLEANUP_MEM	220554160
+MAP	TOTAL_RUN	51968701000
+MAP	READ	8430184000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9226836
+MAP	VALUE_BYTE_COUNT	133192497
+MAP	MAP	37190440000
+MAP	WRITE	12909238000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1222317000
+MAP	SERIALIZE_OUTPUT	5073013000
+MAP	MAP_MEM	221116320
+SPILL	SORT_AND_SPILL	59831817000
+SPILL	QUICK_SORT	2502720000
+SPILL	SORT_COUNT	1025204
+SPILL	COMBINE	0
+SPILL	WRITE	57329097000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	149832488
+SPILL	COMPRESS_BYTE_COUNT	45994280
+MERGE	TOTAL_MERGE	1844000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	115405497000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.27	0
+MAP	STARTUP_MEM	212687312
+MAP	SETUP	5944000
+MAP	SETUP_MEM	214003336
+MAP	CLEANUP	105000
+MAP	CLEANUP_MEM	219125864
+MAP	TOTAL_RUN	55469733000
+MAP	READ	12096521000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9225189
+MAP	VALUE_BYTE_COUNT	133192769
+MAP	MAP	34905865000
+MAP	WRITE	16487851000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1209446000
+MAP	SERIALIZE_OUTPUT	8804560000
+MAP	MAP_MEM	219125864
+SPILL	SORT_AND_SPILL	43688209000
+SPILL	QUICK_SORT	3795732000
+SPILL	SORT_COUNT	1025021
+SPILL	COMBINE	0
+SPILL	WRITE	39892477000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	149830803
+SPILL	COMPRESS_BYTE_COUNT	45989383
+MERGE	TOTAL_MERGE	2489000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	102527563000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.28	0
+MAP	STARTUP_MEM	213540240
+MAP	SETUP	3777000
+MAP	SETUP_MEM	213540240
+MAP	CLEANUP	97000
+MAP	CLEANUP_MEM	219168512
+MAP	TOTAL_RUN	54599876000
+MAP	READ	12040958000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	8376412
+MAP	VALUE_BYTE_COUNT	133192801
+MAP	MAP	37424970000
+MAP	WRITE	10638571000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	3054212000
+MAP	SERIALIZE_OUTPUT	2224878000
+MAP	MAP_MEM	219168512
+SPILL	SORT_AND_SPILL	54476278520
+SPILL	QUICK_SORT	3267172000
+SPILL	SORT_COUNT	1025006
+SPILL	COMBINE	0
+SPILL	WRITE	51209106520
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	149830934
+SPILL	COMPRESS_BYTE_COUNT	45990321
+MERGE	TOTAL_MERGE	1736000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	109472380520
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.28	0
+MAP	STARTUP_MEM	213519840
+MAP	SETUP	4731000
+MAP	SETUP_MEM	214807696
+MAP	CLEANUP	90000
+MAP	CLEANUP_MEM	222029528
+MAP	TOTAL_RUN	24866932000
+MAP	READ	3714604000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9227889
+MAP	VALUE_BYTE_COUNT	133192445
+MAP	MAP	17422814000
+MAP	WRITE	5853735000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1050299000
+MAP	SERIALIZE_OUTPUT	2370012000
+MAP	MAP_MEM	222591688
+SPILL	SORT_AND_SPILL	48811509000
+SPILL	QUICK_SORT	1589949000
+SPILL	SORT_COUNT	1025321
+SPILL	COMBINE	0
+SPILL	WRITE	47221560000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	149832900
+SPILL	COMPRESS_BYTE_COUNT	45992442
+MERGE	TOTAL_MERGE	1632000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	74741987000
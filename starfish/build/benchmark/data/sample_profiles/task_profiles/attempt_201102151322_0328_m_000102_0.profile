@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.28	0
+MAP	STARTUP_MEM	212703648
+MAP	SETUP	5977000
+MAP	SETUP_MEM	214027648
+MAP	CLEANUP	105000
+MAP	CLEANUP_MEM	221110320
+MAP	TOTAL_RUN	45305425432
+MAP	READ	7112928000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9226980
+MAP	VALUE_BYTE_COUNT	133192505
+MAP	MAP	27527489432
+MAP	WRITE	9954481000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1502565000
+MAP	SERIALIZE_OUTPUT	3338746000
+MAP	MAP_MEM	221110320
+SPILL	SORT_AND_SPILL	53572968400
+SPILL	QUICK_SORT	4105412000
+SPILL	SORT_COUNT	1025220
+SPILL	COMBINE	0
+SPILL	WRITE	49467556400
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	149831745
+SPILL	COMPRESS_BYTE_COUNT	45988823
+MERGE	TOTAL_MERGE	101076000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	101030072832
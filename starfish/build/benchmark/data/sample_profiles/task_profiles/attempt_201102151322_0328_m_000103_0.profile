@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.28	0
+MAP	STARTUP_MEM	212681216
+MAP	SETUP	11033000
+MAP	SETUP_MEM	214828600
+MAP	CLEANUP	97000
+MAP	CLEANUP_MEM	219665816
+MAP	TOTAL_RUN	35302654000
+MAP	READ	9357894000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9225891
+MAP	VALUE_BYTE_COUNT	133192535
+MAP	MAP	20724038000
+MAP	WRITE	9723841000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1129773000
+MAP	SERIALIZE_OUTPUT	5072149000
+MAP	MAP_MEM	219665816
+SPILL	SORT_AND_SPILL	45326226000
+SPILL	QUICK_SORT	1593551000
+SPILL	SORT_COUNT	1025099
+SPILL	COMBINE	0
+SPILL	WRITE	43732675000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	149832183
+SPILL	COMPRESS_BYTE_COUNT	45990093
+MERGE	TOTAL_MERGE	159375000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	84794674000
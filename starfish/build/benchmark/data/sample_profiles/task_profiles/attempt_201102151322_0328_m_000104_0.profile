@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.28	0
+MAP	STARTUP_MEM	212672840
+MAP	SETUP	3644000
+MAP	SETUP_MEM	213964936
+MAP	CLEANUP	102000
+MAP	CLEANUP_MEM	219712800
+MAP	TOTAL_RUN	47619391000
+MAP	READ	13732743000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9226791
+MAP	VALUE_BYTE_COUNT	133192528
+MAP	MAP	26799445000
+MAP	WRITE	10050904000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	2293509000
+MAP	SERIALIZE_OUTPUT	4355054000
+MAP	MAP_MEM	219712800
+SPILL	SORT_AND_SPILL	48621447000
+SPILL	QUICK_SORT	2696864000
+SPILL	SORT_COUNT	1025199
+SPILL	COMBINE	0
+SPILL	WRITE	45924583000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	149832106
+SPILL	COMPRESS_BYTE_COUNT	45992168
+MERGE	TOTAL_MERGE	1799000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	96945991000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.29	0
+MAP	STARTUP_MEM	212681936
+MAP	SETUP	11616000
+MAP	SETUP_MEM	213537576
+MAP	CLEANUP	91000
+MAP	CLEANUP_MEM	220570408
+MAP	TOTAL_RUN	53453708371
+MAP	READ	6700130000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	8377691
+MAP	VALUE_BYTE_COUNT	133192708
+MAP	MAP	39093728371
+MAP	WRITE	16220340000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	3041562000
+MAP	SERIALIZE_OUTPUT	5308675000
+MAP	MAP_MEM	221132568
+SPILL	SORT_AND_SPILL	49127590372
+SPILL	QUICK_SORT	4094892000
+SPILL	SORT_COUNT	1025148
+SPILL	COMBINE	0
+SPILL	WRITE	45032698372
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	149831820
+SPILL	COMPRESS_BYTE_COUNT	45990218
+MERGE	TOTAL_MERGE	402692000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	104040513743
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.29	0
+MAP	STARTUP_MEM	212700072
+MAP	SETUP	41606000
+MAP	SETUP_MEM	213962752
+MAP	CLEANUP	92000
+MAP	CLEANUP_MEM	220495720
+MAP	TOTAL_RUN	46382344000
+MAP	READ	11715673000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9226044
+MAP	VALUE_BYTE_COUNT	133192576
+MAP	MAP	27930839000
+MAP	WRITE	11858449000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1143676000
+MAP	SERIALIZE_OUTPUT	2450872000
+MAP	MAP_MEM	220495720
+SPILL	SORT_AND_SPILL	41893386000
+SPILL	QUICK_SORT	1670958000
+SPILL	SORT_COUNT	1025116
+SPILL	COMBINE	0
+SPILL	WRITE	40222428000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	149832122
+SPILL	COMPRESS_BYTE_COUNT	45991361
+MERGE	TOTAL_MERGE	1597000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	89659557000
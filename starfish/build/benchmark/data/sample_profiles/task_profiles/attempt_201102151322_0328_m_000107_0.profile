@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.29	0
+MAP	STARTUP_MEM	212689064
+MAP	SETUP	5713000
+MAP	SETUP_MEM	214862992
+MAP	CLEANUP	118000
+MAP	CLEANUP_MEM	219114720
+MAP	TOTAL_RUN	33412500000
+MAP	READ	8805395000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9226656
+MAP	VALUE_BYTE_COUNT	133192560
+MAP	MAP	20367411000
+MAP	WRITE	8032693000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	988683000
+MAP	SERIALIZE_OUTPUT	2303056000
+MAP	MAP_MEM	219676880
+SPILL	SORT_AND_SPILL	46965837928
+SPILL	QUICK_SORT	1948608000
+SPILL	SORT_COUNT	1025184
+SPILL	COMBINE	0
+SPILL	WRITE	45017229928
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	149832512
+SPILL	COMPRESS_BYTE_COUNT	45990244
+MERGE	TOTAL_MERGE	1976000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	81092443928
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.29	0
+MAP	STARTUP_MEM	212685232
+MAP	SETUP	3676000
+MAP	SETUP_MEM	213999696
+MAP	CLEANUP	110000
+MAP	CLEANUP_MEM	219741568
+MAP	TOTAL_RUN	29393618000
+MAP	READ	4113454000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9225531
+MAP	VALUE_BYTE_COUNT	133192668
+MAP	MAP	21551778000
+MAP	WRITE	6011392000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1188508000
+MAP	SERIALIZE_OUTPUT	2089238000
+MAP	MAP_MEM	219741568
+SPILL	SORT_AND_SPILL	54015109000
+SPILL	QUICK_SORT	4772547000
+SPILL	SORT_COUNT	1025059
+SPILL	COMBINE	0
+SPILL	WRITE	49242562000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	149830866
+SPILL	COMPRESS_BYTE_COUNT	45987022
+MERGE	TOTAL_MERGE	1663000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	84842230000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.29	0
+MAP	STARTUP_MEM	213522912
+MAP	SETUP	5149000
+MAP	SETUP_MEM	214809408
+MAP	CLEANUP	88000
+MAP	CLEANUP_MEM	217767176
+MAP	TOTAL_RUN	24228314000
+MAP	READ	3486732000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9226098
+MAP	VALUE_BYTE_COUNT	133192587
+MAP	MAP	17305108000
+MAP	WRITE	5582367000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1007718000
+MAP	SERIALIZE_OUTPUT	2077330000
+MAP	MAP_MEM	218329336
+SPILL	SORT_AND_SPILL	35861885000
+SPILL	QUICK_SORT	1746807000
+SPILL	SORT_COUNT	1025122
+SPILL	COMBINE	0
+SPILL	WRITE	34115078000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	149832020
+SPILL	COMPRESS_BYTE_COUNT	45996642
+MERGE	TOTAL_MERGE	1625000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	60620722000
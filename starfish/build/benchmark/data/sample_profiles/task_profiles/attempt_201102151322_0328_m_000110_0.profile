@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.3	0
+MAP	STARTUP_MEM	213522840
+MAP	SETUP	8871000
+MAP	SETUP_MEM	213522840
+MAP	CLEANUP	108000
+MAP	CLEANUP_MEM	226284520
+MAP	TOTAL_RUN	40819304000
+MAP	READ	7579281000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	8442672
+MAP	VALUE_BYTE_COUNT	133184681
+MAP	MAP	28095400000
+MAP	WRITE	7736298000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	904014000
+MAP	SERIALIZE_OUTPUT	2141647000
+MAP	MAP_MEM	226846680
+SPILL	SORT_AND_SPILL	50032153000
+SPILL	QUICK_SORT	2300688000
+SPILL	SORT_COUNT	1033103
+SPILL	COMBINE	0
+SPILL	WRITE	47731465000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	148858470
+SPILL	COMPRESS_BYTE_COUNT	46271387
+MERGE	TOTAL_MERGE	1808000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	91943070000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.3	0
+MAP	STARTUP_MEM	212709904
+MAP	SETUP	16604000
+MAP	SETUP_MEM	214890048
+MAP	CLEANUP	90000
+MAP	CLEANUP_MEM	228256416
+MAP	TOTAL_RUN	28323020000
+MAP	READ	3909286000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9296748
+MAP	VALUE_BYTE_COUNT	133184705
+MAP	MAP	20775701000
+MAP	WRITE	7976250000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1487061000
+MAP	SERIALIZE_OUTPUT	2758049000
+MAP	MAP_MEM	228256416
+SPILL	SORT_AND_SPILL	30170304000
+SPILL	QUICK_SORT	1673964000
+SPILL	SORT_COUNT	1032972
+SPILL	COMBINE	0
+SPILL	WRITE	28496340000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	148858011
+SPILL	COMPRESS_BYTE_COUNT	46260524
+MERGE	TOTAL_MERGE	1655000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	59079087000
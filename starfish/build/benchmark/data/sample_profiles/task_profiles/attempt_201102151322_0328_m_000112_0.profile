@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.3	0
+MAP	STARTUP_MEM	214346592
+MAP	SETUP	3427000
+MAP	SETUP_MEM	215630184
+MAP	CLEANUP	91000
+MAP	CLEANUP_MEM	227699912
+MAP	TOTAL_RUN	24221271000
+MAP	READ	3686745000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9297792
+MAP	VALUE_BYTE_COUNT	133184738
+MAP	MAP	17137780000
+MAP	WRITE	5624323000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1017714000
+MAP	SERIALIZE_OUTPUT	2121741000
+MAP	MAP_MEM	228555552
+SPILL	SORT_AND_SPILL	31009805000
+SPILL	QUICK_SORT	1693364000
+SPILL	SORT_COUNT	1033088
+SPILL	COMBINE	0
+SPILL	WRITE	29316441000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	148858132
+SPILL	COMPRESS_BYTE_COUNT	46262447
+MERGE	TOTAL_MERGE	1834000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	58260085000
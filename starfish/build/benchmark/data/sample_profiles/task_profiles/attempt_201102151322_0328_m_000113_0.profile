@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.3	0
+MAP	STARTUP_MEM	212671272
+MAP	SETUP	12704000
+MAP	SETUP_MEM	214817480
+MAP	CLEANUP	94000
+MAP	CLEANUP_MEM	226893360
+MAP	TOTAL_RUN	29325277396
+MAP	READ	4138812000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9296631
+MAP	VALUE_BYTE_COUNT	133184751
+MAP	MAP	20185664396
+MAP	WRITE	6961576000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1393380000
+MAP	SERIALIZE_OUTPUT	2275954000
+MAP	MAP_MEM	226893360
+SPILL	SORT_AND_SPILL	47227981000
+SPILL	QUICK_SORT	1657209000
+SPILL	SORT_COUNT	1032959
+SPILL	COMBINE	0
+SPILL	WRITE	45570772000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	148858091
+SPILL	COMPRESS_BYTE_COUNT	46263577
+MERGE	TOTAL_MERGE	1677000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	77179579396
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.3	0
+MAP	STARTUP_MEM	213549704
+MAP	SETUP	4386000
+MAP	SETUP_MEM	214864168
+MAP	CLEANUP	93000
+MAP	CLEANUP_MEM	226311152
+MAP	TOTAL_RUN	29082094396
+MAP	READ	4480914000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9296289
+MAP	VALUE_BYTE_COUNT	133184734
+MAP	MAP	20238565102
+MAP	WRITE	6659341102
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1122428000
+MAP	SERIALIZE_OUTPUT	2410140000
+MAP	MAP_MEM	226873312
+SPILL	SORT_AND_SPILL	51066709000
+SPILL	QUICK_SORT	1688269000
+SPILL	SORT_COUNT	1032921
+SPILL	COMBINE	0
+SPILL	WRITE	49378440000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	148857772
+SPILL	COMPRESS_BYTE_COUNT	46259111
+MERGE	TOTAL_MERGE	1768000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	80668945396
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.30	0
+MAP	STARTUP_MEM	213540224
+MAP	SETUP	3584000
+MAP	SETUP_MEM	213540224
+MAP	CLEANUP	100000
+MAP	CLEANUP_MEM	219707024
+MAP	TOTAL_RUN	38927299000
+MAP	READ	8118435000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	8377472
+MAP	VALUE_BYTE_COUNT	133192654
+MAP	MAP	26341888000
+MAP	WRITE	10689343000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	936320000
+MAP	SERIALIZE_OUTPUT	3968806000
+MAP	MAP_MEM	219707024
+SPILL	SORT_AND_SPILL	39936187000
+SPILL	QUICK_SORT	3356202000
+SPILL	SORT_COUNT	1025129
+SPILL	COMBINE	0
+SPILL	WRITE	36579985000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	149831300
+SPILL	COMPRESS_BYTE_COUNT	45987951
+MERGE	TOTAL_MERGE	3049000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	82360052000
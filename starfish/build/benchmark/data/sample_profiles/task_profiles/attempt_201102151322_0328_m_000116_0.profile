@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.30	0
+MAP	STARTUP_MEM	215875200
+MAP	SETUP	3681000
+MAP	SETUP_MEM	217191224
+MAP	CLEANUP	96000
+MAP	CLEANUP_MEM	220467424
+MAP	TOTAL_RUN	40638641293
+MAP	READ	9576351000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9226611
+MAP	VALUE_BYTE_COUNT	133192503
+MAP	MAP	25877439293
+MAP	WRITE	9504360293
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1594746000
+MAP	SERIALIZE_OUTPUT	2688215000
+MAP	MAP_MEM	220467424
+SPILL	SORT_AND_SPILL	77422135141
+SPILL	QUICK_SORT	6337668000
+SPILL	SORT_COUNT	1025179
+SPILL	COMBINE	0
+SPILL	WRITE	71084467141
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	149832694
+SPILL	COMPRESS_BYTE_COUNT	45996367
+MERGE	TOTAL_MERGE	104137000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	123812455434
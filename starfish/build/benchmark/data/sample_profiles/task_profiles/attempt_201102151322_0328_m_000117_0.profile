@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.30	0
+MAP	STARTUP_MEM	213532408
+MAP	SETUP	5093000
+MAP	SETUP_MEM	214828456
+MAP	CLEANUP	94000
+MAP	CLEANUP_MEM	219117008
+MAP	TOTAL_RUN	37428591372
+MAP	READ	5973666000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9226962
+MAP	VALUE_BYTE_COUNT	133192511
+MAP	MAP	25700946372
+MAP	WRITE	8675569000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1504651000
+MAP	SERIALIZE_OUTPUT	3139864000
+MAP	MAP_MEM	219117008
+SPILL	SORT_AND_SPILL	73223200371
+SPILL	QUICK_SORT	2673992000
+SPILL	SORT_COUNT	1025218
+SPILL	COMBINE	0
+SPILL	WRITE	70549208371
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	149831949
+SPILL	COMPRESS_BYTE_COUNT	45992493
+MERGE	TOTAL_MERGE	103623000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	111588760743
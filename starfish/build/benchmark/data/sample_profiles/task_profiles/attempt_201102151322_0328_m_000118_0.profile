@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.30	0
+MAP	STARTUP_MEM	212679096
+MAP	SETUP	5408000
+MAP	SETUP_MEM	213977416
+MAP	CLEANUP	96000
+MAP	CLEANUP_MEM	219252992
+MAP	TOTAL_RUN	49269278737
+MAP	READ	12427674000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9226215
+MAP	VALUE_BYTE_COUNT	133192730
+MAP	MAP	31014959737
+MAP	WRITE	14281538000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1344279000
+MAP	SERIALIZE_OUTPUT	4402853000
+MAP	MAP_MEM	219252992
+SPILL	SORT_AND_SPILL	60916916736
+SPILL	QUICK_SORT	3536454000
+SPILL	SORT_COUNT	1025135
+SPILL	COMBINE	0
+SPILL	WRITE	57380462736
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	149831570
+SPILL	COMPRESS_BYTE_COUNT	45992964
+MERGE	TOTAL_MERGE	1821000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	111099182473
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.30	0
+MAP	STARTUP_MEM	213522960
+MAP	SETUP	107943000
+MAP	SETUP_MEM	214809456
+MAP	CLEANUP	97000
+MAP	CLEANUP_MEM	220000488
+MAP	TOTAL_RUN	41552892000
+MAP	READ	8853015000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9226359
+MAP	VALUE_BYTE_COUNT	133192511
+MAP	MAP	28203504000
+MAP	WRITE	12916028000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	5276652000
+MAP	SERIALIZE_OUTPUT	2555402000
+MAP	MAP_MEM	220000488
+SPILL	SORT_AND_SPILL	63116176000
+SPILL	QUICK_SORT	2229730000
+SPILL	SORT_COUNT	1025151
+SPILL	COMBINE	0
+SPILL	WRITE	60886446000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	149831983
+SPILL	COMPRESS_BYTE_COUNT	45989918
+MERGE	TOTAL_MERGE	1883000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	106703387000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.4	0
+MAP	STARTUP_MEM	213556304
+MAP	SETUP	3318000
+MAP	SETUP_MEM	213556304
+MAP	CLEANUP	97000
+MAP	CLEANUP_MEM	227647376
+MAP	TOTAL_RUN	31705681000
+MAP	READ	6378288000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	8443636
+MAP	VALUE_BYTE_COUNT	133184529
+MAP	MAP	21089141000
+MAP	WRITE	8168368000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	2043801000
+MAP	SERIALIZE_OUTPUT	2077443000
+MAP	MAP_MEM	228209536
+SPILL	SORT_AND_SPILL	41822976000
+SPILL	QUICK_SORT	2576430000
+SPILL	SORT_COUNT	1033226
+SPILL	COMBINE	0
+SPILL	WRITE	39246546000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	148859052
+SPILL	COMPRESS_BYTE_COUNT	46273874
+MERGE	TOTAL_MERGE	1614000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	73913278000
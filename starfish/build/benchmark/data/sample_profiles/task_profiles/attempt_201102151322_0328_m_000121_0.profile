@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.4	0
+MAP	STARTUP_MEM	213534640
+MAP	SETUP	5327000
+MAP	SETUP_MEM	214832960
+MAP	CLEANUP	89000
+MAP	CLEANUP_MEM	227956384
+MAP	TOTAL_RUN	31555879000
+MAP	READ	5661406000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9297144
+MAP	VALUE_BYTE_COUNT	133184814
+MAP	MAP	20285791000
+MAP	WRITE	5845095000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1022026000
+MAP	SERIALIZE_OUTPUT	1807968000
+MAP	MAP_MEM	227956384
+SPILL	SORT_AND_SPILL	47158758000
+SPILL	QUICK_SORT	1959521000
+SPILL	SORT_COUNT	1033016
+SPILL	COMBINE	0
+SPILL	WRITE	45199237000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	148858133
+SPILL	COMPRESS_BYTE_COUNT	46264522
+MERGE	TOTAL_MERGE	1612000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	81798301000
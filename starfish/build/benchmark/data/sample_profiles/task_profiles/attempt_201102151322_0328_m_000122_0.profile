@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.4	0
+MAP	STARTUP_MEM	213554408
+MAP	SETUP	5381000
+MAP	SETUP_MEM	214882400
+MAP	CLEANUP	106000
+MAP	CLEANUP_MEM	227680040
+MAP	TOTAL_RUN	33572497737
+MAP	READ	6407122000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9298314
+MAP	VALUE_BYTE_COUNT	133184484
+MAP	MAP	21598015000
+MAP	WRITE	8311613000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1363879000
+MAP	SERIALIZE_OUTPUT	2654785000
+MAP	MAP_MEM	228242200
+SPILL	SORT_AND_SPILL	66169657736
+SPILL	QUICK_SORT	1635704000
+SPILL	SORT_COUNT	1033146
+SPILL	COMBINE	0
+SPILL	WRITE	64533953736
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	148857588
+SPILL	COMPRESS_BYTE_COUNT	46268591
+MERGE	TOTAL_MERGE	1982000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	100856282473
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.4	0
+MAP	STARTUP_MEM	213586512
+MAP	SETUP	6210000
+MAP	SETUP_MEM	214871224
+MAP	CLEANUP	97000
+MAP	CLEANUP_MEM	225334744
+MAP	TOTAL_RUN	43802031400
+MAP	READ	7822835000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9298062
+MAP	VALUE_BYTE_COUNT	133184691
+MAP	MAP	29683463400
+MAP	WRITE	10633790400
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1959227000
+MAP	SERIALIZE_OUTPUT	3212382000
+MAP	MAP_MEM	225334744
+SPILL	SORT_AND_SPILL	58254410396
+SPILL	QUICK_SORT	2041185000
+SPILL	SORT_COUNT	1033118
+SPILL	COMBINE	0
+SPILL	WRITE	56213225396
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	148858601
+SPILL	COMPRESS_BYTE_COUNT	46264252
+MERGE	TOTAL_MERGE	1543000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	102893077796
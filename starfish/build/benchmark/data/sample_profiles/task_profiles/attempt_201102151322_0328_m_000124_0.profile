@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.4	0
+MAP	STARTUP_MEM	212656592
+MAP	SETUP	5534000
+MAP	SETUP_MEM	213937736
+MAP	CLEANUP	90000
+MAP	CLEANUP_MEM	227651984
+MAP	TOTAL_RUN	34292543000
+MAP	READ	6868026000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9297459
+MAP	VALUE_BYTE_COUNT	133184664
+MAP	MAP	22725645000
+MAP	WRITE	8878832000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	905880000
+MAP	SERIALIZE_OUTPUT	4608782000
+MAP	MAP_MEM	228214144
+SPILL	SORT_AND_SPILL	31102532000
+SPILL	QUICK_SORT	1626150000
+SPILL	SORT_COUNT	1033051
+SPILL	COMBINE	0
+SPILL	WRITE	29476382000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	148858452
+SPILL	COMPRESS_BYTE_COUNT	46263468
+MERGE	TOTAL_MERGE	1653000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	67110217000
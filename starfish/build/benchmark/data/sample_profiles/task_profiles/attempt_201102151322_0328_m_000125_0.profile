@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.5	0
+MAP	STARTUP_MEM	212667864
+MAP	SETUP	3474000
+MAP	SETUP_MEM	212667864
+MAP	CLEANUP	96000
+MAP	CLEANUP_MEM	227629616
+MAP	TOTAL_RUN	53745637141
+MAP	READ	9108537000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	8442231
+MAP	VALUE_BYTE_COUNT	133184787
+MAP	MAP	37661575141
+MAP	WRITE	17274332141
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	2396042000
+MAP	SERIALIZE_OUTPUT	6529597000
+MAP	MAP_MEM	228191776
+SPILL	SORT_AND_SPILL	64095301444
+SPILL	QUICK_SORT	3669524000
+SPILL	SORT_COUNT	1033049
+SPILL	COMBINE	0
+SPILL	WRITE	60425777444
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	148857975
+SPILL	COMPRESS_BYTE_COUNT	46265264
+MERGE	TOTAL_MERGE	33362000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	118393965585
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.5	0
+MAP	STARTUP_MEM	213522832
+MAP	SETUP	5383000
+MAP	SETUP_MEM	214809328
+MAP	CLEANUP	124000
+MAP	CLEANUP_MEM	228268968
+MAP	TOTAL_RUN	38873931000
+MAP	READ	8392411000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9298035
+MAP	VALUE_BYTE_COUNT	133184510
+MAP	MAP	25745209000
+MAP	WRITE	10280684000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	2428418000
+MAP	SERIALIZE_OUTPUT	2426739000
+MAP	MAP_MEM	228268968
+SPILL	SORT_AND_SPILL	60714753000
+SPILL	QUICK_SORT	3674394000
+SPILL	SORT_COUNT	1033115
+SPILL	COMBINE	0
+SPILL	WRITE	57040359000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	148858503
+SPILL	COMPRESS_BYTE_COUNT	46260757
+MERGE	TOTAL_MERGE	1792000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	103908211000
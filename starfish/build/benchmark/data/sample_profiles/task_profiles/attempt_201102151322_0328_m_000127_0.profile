@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.5	0
+MAP	STARTUP_MEM	215855784
+MAP	SETUP	3495000
+MAP	SETUP_MEM	217150640
+MAP	CLEANUP	99000
+MAP	CLEANUP_MEM	227638960
+MAP	TOTAL_RUN	34469748000
+MAP	READ	6720682000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9297549
+MAP	VALUE_BYTE_COUNT	133184717
+MAP	MAP	21761505000
+MAP	WRITE	9164377000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1317012000
+MAP	SERIALIZE_OUTPUT	2536588000
+MAP	MAP_MEM	227638960
+SPILL	SORT_AND_SPILL	30831375000
+SPILL	QUICK_SORT	1869147000
+SPILL	SORT_COUNT	1033061
+SPILL	COMBINE	0
+SPILL	WRITE	28962228000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	148858281
+SPILL	COMPRESS_BYTE_COUNT	46265517
+MERGE	TOTAL_MERGE	1684000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	70641075000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.5	0
+MAP	STARTUP_MEM	212688968
+MAP	SETUP	4703000
+MAP	SETUP_MEM	214862776
+MAP	CLEANUP	104000
+MAP	CLEANUP_MEM	227671424
+MAP	TOTAL_RUN	32338213444
+MAP	READ	6135726000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9296829
+MAP	VALUE_BYTE_COUNT	133184733
+MAP	MAP	21068592444
+MAP	WRITE	7468923000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1386460000
+MAP	SERIALIZE_OUTPUT	2616441000
+MAP	MAP_MEM	228233584
+SPILL	SORT_AND_SPILL	85106813293
+SPILL	QUICK_SORT	1736219000
+SPILL	SORT_COUNT	1032981
+SPILL	COMBINE	0
+SPILL	WRITE	83370594293
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	148857282
+SPILL	COMPRESS_BYTE_COUNT	46260375
+MERGE	TOTAL_MERGE	101417000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	118383102737
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.5	0
+MAP	STARTUP_MEM	212650872
+MAP	SETUP	3347000
+MAP	SETUP_MEM	213930976
+MAP	CLEANUP	101000
+MAP	CLEANUP_MEM	227631376
+MAP	TOTAL_RUN	29367484000
+MAP	READ	5159353000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9296334
+MAP	VALUE_BYTE_COUNT	133184813
+MAP	MAP	20336997000
+MAP	WRITE	8869347000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1030356000
+MAP	SERIALIZE_OUTPUT	2081116000
+MAP	MAP_MEM	227631376
+SPILL	SORT_AND_SPILL	66551910000
+SPILL	QUICK_SORT	1581372000
+SPILL	SORT_COUNT	1032926
+SPILL	COMBINE	0
+SPILL	WRITE	64970538000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	148857765
+SPILL	COMPRESS_BYTE_COUNT	46258105
+MERGE	TOTAL_MERGE	1603000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	97090201000
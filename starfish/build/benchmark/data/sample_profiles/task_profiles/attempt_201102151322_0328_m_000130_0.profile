@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.6	0
+MAP	STARTUP_MEM	213536792
+MAP	SETUP	4035000
+MAP	SETUP_MEM	213536792
+MAP	CLEANUP	110000
+MAP	CLEANUP_MEM	227702024
+MAP	TOTAL_RUN	56352679894
+MAP	READ	9359818000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	8443463
+MAP	VALUE_BYTE_COUNT	133184529
+MAP	MAP	35931958000
+MAP	WRITE	12508613000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	963378000
+MAP	SERIALIZE_OUTPUT	5244873000
+MAP	MAP_MEM	227702024
+SPILL	SORT_AND_SPILL	75354087000
+SPILL	QUICK_SORT	5448340000
+SPILL	SORT_COUNT	1033206
+SPILL	COMBINE	0
+SPILL	WRITE	69905747000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	148859223
+SPILL	COMPRESS_BYTE_COUNT	46273935
+MERGE	TOTAL_MERGE	3639399000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	135804917894
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.6	0
+MAP	STARTUP_MEM	212679824
+MAP	SETUP	3749000
+MAP	SETUP_MEM	213978912
+MAP	CLEANUP	97000
+MAP	CLEANUP_MEM	226250544
+MAP	TOTAL_RUN	36254875000
+MAP	READ	7637180000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9297405
+MAP	VALUE_BYTE_COUNT	133184750
+MAP	MAP	24167309000
+MAP	WRITE	10235855000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	944392000
+MAP	SERIALIZE_OUTPUT	6565214000
+MAP	MAP_MEM	226250544
+SPILL	SORT_AND_SPILL	32779587000
+SPILL	QUICK_SORT	1739243000
+SPILL	SORT_COUNT	1033045
+SPILL	COMBINE	0
+SPILL	WRITE	31040344000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	148858270
+SPILL	COMPRESS_BYTE_COUNT	46269582
+MERGE	TOTAL_MERGE	1568000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	69899478000
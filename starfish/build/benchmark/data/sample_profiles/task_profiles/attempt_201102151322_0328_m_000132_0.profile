@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.6	0
+MAP	STARTUP_MEM	212678680
+MAP	SETUP	3490000
+MAP	SETUP_MEM	213976760
+MAP	CLEANUP	91000
+MAP	CLEANUP_MEM	227643520
+MAP	TOTAL_RUN	40907954894
+MAP	READ	9772680000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9297045
+MAP	VALUE_BYTE_COUNT	133184689
+MAP	MAP	27136309894
+MAP	WRITE	6150735000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1438777000
+MAP	SERIALIZE_OUTPUT	2053384000
+MAP	MAP_MEM	227643520
+SPILL	SORT_AND_SPILL	55556685000
+SPILL	QUICK_SORT	1680778000
+SPILL	SORT_COUNT	1033005
+SPILL	COMBINE	0
+SPILL	WRITE	53875907000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	148857930
+SPILL	COMPRESS_BYTE_COUNT	46265562
+MERGE	TOTAL_MERGE	594860000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	100686625894
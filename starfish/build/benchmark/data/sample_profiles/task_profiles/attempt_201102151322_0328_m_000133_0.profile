@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.6	0
+MAP	STARTUP_MEM	213510176
+MAP	SETUP	3956000
+MAP	SETUP_MEM	214793856
+MAP	CLEANUP	106000
+MAP	CLEANUP_MEM	227733608
+MAP	TOTAL_RUN	35715306000
+MAP	READ	7554553000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9298710
+MAP	VALUE_BYTE_COUNT	133184572
+MAP	MAP	24384368000
+MAP	WRITE	9242010000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	936256000
+MAP	SERIALIZE_OUTPUT	2331827000
+MAP	MAP_MEM	227733608
+SPILL	SORT_AND_SPILL	56820636000
+SPILL	QUICK_SORT	2031082000
+SPILL	SORT_COUNT	1033190
+SPILL	COMBINE	0
+SPILL	WRITE	54789554000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	148858761
+SPILL	COMPRESS_BYTE_COUNT	46267320
+MERGE	TOTAL_MERGE	6377000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	93056158000
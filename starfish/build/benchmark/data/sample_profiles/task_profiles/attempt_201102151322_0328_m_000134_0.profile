@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.6	0
+MAP	STARTUP_MEM	212675680
+MAP	SETUP	5554000
+MAP	SETUP_MEM	213970536
+MAP	CLEANUP	121000
+MAP	CLEANUP_MEM	228291136
+MAP	TOTAL_RUN	56756046000
+MAP	READ	15919243000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9296856
+MAP	VALUE_BYTE_COUNT	133184801
+MAP	MAP	31016253000
+MAP	WRITE	8625504000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1222401000
+MAP	SERIALIZE_OUTPUT	4049263000
+MAP	MAP_MEM	228291136
+SPILL	SORT_AND_SPILL	49455313000
+SPILL	QUICK_SORT	2473065000
+SPILL	SORT_COUNT	1032984
+SPILL	COMBINE	0
+SPILL	WRITE	46982248000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	148857891
+SPILL	COMPRESS_BYTE_COUNT	46259801
+MERGE	TOTAL_MERGE	1843000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	109066826000
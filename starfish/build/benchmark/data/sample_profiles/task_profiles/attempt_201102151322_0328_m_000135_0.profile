@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.7	0
+MAP	STARTUP_MEM	213534000
+MAP	SETUP	3615000
+MAP	SETUP_MEM	213534000
+MAP	CLEANUP	90000
+MAP	CLEANUP_MEM	227621472
+MAP	TOTAL_RUN	33472307396
+MAP	READ	5726342000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	8442434
+MAP	VALUE_BYTE_COUNT	133184664
+MAP	MAP	22091122396
+MAP	WRITE	7477623000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1622665000
+MAP	SERIALIZE_OUTPUT	2643457000
+MAP	MAP_MEM	228183632
+SPILL	SORT_AND_SPILL	68433567270
+SPILL	QUICK_SORT	1834295000
+SPILL	SORT_COUNT	1033072
+SPILL	COMBINE	0
+SPILL	WRITE	66599272270
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	148858276
+SPILL	COMPRESS_BYTE_COUNT	46266422
+MERGE	TOTAL_MERGE	161083000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	103744843666
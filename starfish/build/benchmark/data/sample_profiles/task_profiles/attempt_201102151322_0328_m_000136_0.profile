@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.7	0
+MAP	STARTUP_MEM	213523392
+MAP	SETUP	13244000
+MAP	SETUP_MEM	214810448
+MAP	CLEANUP	94000
+MAP	CLEANUP_MEM	228302560
+MAP	TOTAL_RUN	33086593000
+MAP	READ	5421695000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9297900
+MAP	VALUE_BYTE_COUNT	133184710
+MAP	MAP	22526395000
+MAP	WRITE	7994840000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	909315000
+MAP	SERIALIZE_OUTPUT	3308112000
+MAP	MAP_MEM	228302560
+SPILL	SORT_AND_SPILL	41899522000
+SPILL	QUICK_SORT	2477911000
+SPILL	SORT_COUNT	1033100
+SPILL	COMBINE	0
+SPILL	WRITE	39421611000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	148859377
+SPILL	COMPRESS_BYTE_COUNT	46265979
+MERGE	TOTAL_MERGE	1636000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	75465795000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.7	0
+MAP	STARTUP_MEM	212675640
+MAP	SETUP	3686000
+MAP	SETUP_MEM	213970496
+MAP	CLEANUP	103000
+MAP	CLEANUP_MEM	226324280
+MAP	TOTAL_RUN	34936515000
+MAP	READ	8156824000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9296982
+MAP	VALUE_BYTE_COUNT	133184747
+MAP	MAP	23163388000
+MAP	WRITE	5539403000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	938387000
+MAP	SERIALIZE_OUTPUT	2158903000
+MAP	MAP_MEM	226324280
+SPILL	SORT_AND_SPILL	52351293000
+SPILL	QUICK_SORT	2651350000
+SPILL	SORT_COUNT	1032998
+SPILL	COMBINE	0
+SPILL	WRITE	49699943000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	148858476
+SPILL	COMPRESS_BYTE_COUNT	46267558
+MERGE	TOTAL_MERGE	1681000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	89320834000
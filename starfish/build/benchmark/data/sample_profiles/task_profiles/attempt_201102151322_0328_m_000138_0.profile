@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.7	0
+MAP	STARTUP_MEM	213529536
+MAP	SETUP	5685000
+MAP	SETUP_MEM	214813776
+MAP	CLEANUP	96000
+MAP	CLEANUP_MEM	227706128
+MAP	TOTAL_RUN	29985658000
+MAP	READ	4573229000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9298872
+MAP	VALUE_BYTE_COUNT	133184472
+MAP	MAP	20921531000
+MAP	WRITE	7662625000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1336881000
+MAP	SERIALIZE_OUTPUT	2648456000
+MAP	MAP_MEM	228268288
+SPILL	SORT_AND_SPILL	34279120000
+SPILL	QUICK_SORT	1644848000
+SPILL	SORT_COUNT	1033208
+SPILL	COMBINE	0
+SPILL	WRITE	32634272000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	148858778
+SPILL	COMPRESS_BYTE_COUNT	46271413
+MERGE	TOTAL_MERGE	1744000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	64973244000
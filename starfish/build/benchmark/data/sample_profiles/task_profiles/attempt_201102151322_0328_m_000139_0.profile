@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.7	0
+MAP	STARTUP_MEM	212663816
+MAP	SETUP	3743000
+MAP	SETUP_MEM	213946904
+MAP	CLEANUP	93000
+MAP	CLEANUP_MEM	227742368
+MAP	TOTAL_RUN	32584937000
+MAP	READ	5632088000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9296595
+MAP	VALUE_BYTE_COUNT	133184807
+MAP	MAP	22542909000
+MAP	WRITE	7811264000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1382120000
+MAP	SERIALIZE_OUTPUT	3708334000
+MAP	MAP_MEM	227742368
+SPILL	SORT_AND_SPILL	41538983000
+SPILL	QUICK_SORT	1768829000
+SPILL	SORT_COUNT	1032955
+SPILL	COMBINE	0
+SPILL	WRITE	39770154000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	148857098
+SPILL	COMPRESS_BYTE_COUNT	46265485
+MERGE	TOTAL_MERGE	1652000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	74844568000
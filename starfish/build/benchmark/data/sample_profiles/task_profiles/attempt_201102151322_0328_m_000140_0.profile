@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.8	0
+MAP	STARTUP_MEM	212698192
+MAP	SETUP	11578000
+MAP	SETUP_MEM	212698192
+MAP	CLEANUP	90000
+MAP	CLEANUP_MEM	226883520
+MAP	TOTAL_RUN	39076496371
+MAP	READ	7305138371
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	8442296
+MAP	VALUE_BYTE_COUNT	133184717
+MAP	MAP	26153061000
+MAP	WRITE	10012476000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1747151000
+MAP	SERIALIZE_OUTPUT	4383882000
+MAP	MAP_MEM	226883520
+SPILL	SORT_AND_SPILL	60985446524
+SPILL	QUICK_SORT	2849530000
+SPILL	SORT_COUNT	1033054
+SPILL	COMBINE	0
+SPILL	WRITE	58135916524
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	148858747
+SPILL	COMPRESS_BYTE_COUNT	46266568
+MERGE	TOTAL_MERGE	4596000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	100552559895
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.8	0
+MAP	STARTUP_MEM	212667360
+MAP	SETUP	5491000
+MAP	SETUP_MEM	213953856
+MAP	CLEANUP	270000
+MAP	CLEANUP_MEM	227701256
+MAP	TOTAL_RUN	35458650000
+MAP	READ	4610223000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9296649
+MAP	VALUE_BYTE_COUNT	133184833
+MAP	MAP	25004076000
+MAP	WRITE	9922291000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	978416000
+MAP	SERIALIZE_OUTPUT	5135809000
+MAP	MAP_MEM	227701256
+SPILL	SORT_AND_SPILL	63322133000
+SPILL	QUICK_SORT	1873582000
+SPILL	SORT_COUNT	1032961
+SPILL	COMBINE	0
+SPILL	WRITE	61448551000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	148857879
+SPILL	COMPRESS_BYTE_COUNT	46264180
+MERGE	TOTAL_MERGE	2472000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	99593365000
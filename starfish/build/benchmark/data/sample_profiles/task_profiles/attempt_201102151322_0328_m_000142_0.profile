@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.8	0
+MAP	STARTUP_MEM	212680056
+MAP	SETUP	5283000
+MAP	SETUP_MEM	213978376
+MAP	CLEANUP	107000
+MAP	CLEANUP_MEM	229548624
+MAP	TOTAL_RUN	52290017000
+MAP	READ	10476572000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9298062
+MAP	VALUE_BYTE_COUNT	133184614
+MAP	MAP	31310865000
+MAP	WRITE	11527824000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1148087000
+MAP	SERIALIZE_OUTPUT	2888164000
+MAP	MAP_MEM	229548624
+SPILL	SORT_AND_SPILL	63726950000
+SPILL	QUICK_SORT	1570988000
+SPILL	SORT_COUNT	1033118
+SPILL	COMBINE	0
+SPILL	WRITE	62155962000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	148857160
+SPILL	COMPRESS_BYTE_COUNT	46263477
+MERGE	TOTAL_MERGE	889848000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	121052497000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.8	0
+MAP	STARTUP_MEM	212679552
+MAP	SETUP	26497000
+MAP	SETUP_MEM	214833512
+MAP	CLEANUP	90000
+MAP	CLEANUP_MEM	227565552
+MAP	TOTAL_RUN	34477820000
+MAP	READ	8720822000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9298719
+MAP	VALUE_BYTE_COUNT	133184475
+MAP	MAP	19072000000
+MAP	WRITE	6614563000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1140099000
+MAP	SERIALIZE_OUTPUT	1830286000
+MAP	MAP_MEM	227565552
+SPILL	SORT_AND_SPILL	61234025000
+SPILL	QUICK_SORT	1690191000
+SPILL	SORT_COUNT	1033191
+SPILL	COMBINE	0
+SPILL	WRITE	59543834000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	148859560
+SPILL	COMPRESS_BYTE_COUNT	46273255
+MERGE	TOTAL_MERGE	2388803000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	102340480000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.8	0
+MAP	STARTUP_MEM	213529464
+MAP	SETUP	6045000
+MAP	SETUP_MEM	214813704
+MAP	CLEANUP	105000
+MAP	CLEANUP_MEM	226843168
+MAP	TOTAL_RUN	29010745000
+MAP	READ	4416270000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9297018
+MAP	VALUE_BYTE_COUNT	133184682
+MAP	MAP	20049770000
+MAP	WRITE	6824650000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1181165000
+MAP	SERIALIZE_OUTPUT	2333766000
+MAP	MAP_MEM	226843168
+SPILL	SORT_AND_SPILL	52513766000
+SPILL	QUICK_SORT	1805527000
+SPILL	SORT_COUNT	1033002
+SPILL	COMBINE	0
+SPILL	WRITE	50708239000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	148858246
+SPILL	COMPRESS_BYTE_COUNT	46264243
+MERGE	TOTAL_MERGE	1666000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	82116014000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.9	0
+MAP	STARTUP_MEM	213461208
+MAP	SETUP	8818000
+MAP	SETUP_MEM	213461208
+MAP	CLEANUP	99000
+MAP	CLEANUP_MEM	224156160
+MAP	TOTAL_RUN	38246022000
+MAP	READ	6673178000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	8441591
+MAP	VALUE_BYTE_COUNT	133184790
+MAP	MAP	24206605000
+MAP	WRITE	8796658000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1658754000
+MAP	SERIALIZE_OUTPUT	2424695000
+MAP	MAP_MEM	224156160
+SPILL	SORT_AND_SPILL	62276702270
+SPILL	QUICK_SORT	3394984000
+SPILL	SORT_COUNT	1032967
+SPILL	COMBINE	0
+SPILL	WRITE	58881718270
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	148858076
+SPILL	COMPRESS_BYTE_COUNT	46261518
+MERGE	TOTAL_MERGE	1591000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	102076531270
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.9	0
+MAP	STARTUP_MEM	213528768
+MAP	SETUP	18279000
+MAP	SETUP_MEM	214821160
+MAP	CLEANUP	108000
+MAP	CLEANUP_MEM	227115320
+MAP	TOTAL_RUN	32075069000
+MAP	READ	6694525000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9297234
+MAP	VALUE_BYTE_COUNT	133184710
+MAP	MAP	20794095000
+MAP	WRITE	7727410000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1320025000
+MAP	SERIALIZE_OUTPUT	2721366000
+MAP	MAP_MEM	227115320
+SPILL	SORT_AND_SPILL	36024902000
+SPILL	QUICK_SORT	3347280000
+SPILL	SORT_COUNT	1033026
+SPILL	COMBINE	0
+SPILL	WRITE	32677622000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	148858559
+SPILL	COMPRESS_BYTE_COUNT	46263250
+MERGE	TOTAL_MERGE	1662000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	68951361000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.9	0
+MAP	STARTUP_MEM	212684640
+MAP	SETUP	3598000
+MAP	SETUP_MEM	213985632
+MAP	CLEANUP	136000
+MAP	CLEANUP_MEM	249022280
+MAP	TOTAL_RUN	35569643000
+MAP	READ	5235126000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9298512
+MAP	VALUE_BYTE_COUNT	133184555
+MAP	MAP	25535123000
+MAP	WRITE	8645659000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1004469000
+MAP	SERIALIZE_OUTPUT	2328301000
+MAP	MAP_MEM	249584440
+SPILL	SORT_AND_SPILL	58900644000
+SPILL	QUICK_SORT	1747175000
+SPILL	SORT_COUNT	1033168
+SPILL	COMBINE	0
+SPILL	WRITE	57153469000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	148858377
+SPILL	COMPRESS_BYTE_COUNT	46267238
+MERGE	TOTAL_MERGE	1708000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	95605450000
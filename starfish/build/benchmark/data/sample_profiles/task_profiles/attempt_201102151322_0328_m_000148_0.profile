@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.9	0
+MAP	STARTUP_MEM	212690488
+MAP	SETUP	3436000
+MAP	SETUP_MEM	213991424
+MAP	CLEANUP	106000
+MAP	CLEANUP_MEM	227739256
+MAP	TOTAL_RUN	45701906000
+MAP	READ	8674436000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9297387
+MAP	VALUE_BYTE_COUNT	133184766
+MAP	MAP	32178390000
+MAP	WRITE	14369307000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	963257000
+MAP	SERIALIZE_OUTPUT	2031237000
+MAP	MAP_MEM	227739256
+SPILL	SORT_AND_SPILL	53559355000
+SPILL	QUICK_SORT	1715448000
+SPILL	SORT_COUNT	1033043
+SPILL	COMBINE	0
+SPILL	WRITE	51843907000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	148857971
+SPILL	COMPRESS_BYTE_COUNT	46267728
+MERGE	TOTAL_MERGE	2049005000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	104009826000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.9	0
+MAP	STARTUP_MEM	212681584
+MAP	SETUP	6184000
+MAP	SETUP_MEM	213992400
+MAP	CLEANUP	91000
+MAP	CLEANUP_MEM	227692328
+MAP	TOTAL_RUN	34609173000
+MAP	READ	4102260000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9297648
+MAP	VALUE_BYTE_COUNT	133184552
+MAP	MAP	26261055000
+MAP	WRITE	11816939000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1050691000
+MAP	SERIALIZE_OUTPUT	7925452000
+MAP	MAP_MEM	228254488
+SPILL	SORT_AND_SPILL	47526112000
+SPILL	QUICK_SORT	1865724000
+SPILL	SORT_COUNT	1033072
+SPILL	COMBINE	0
+SPILL	WRITE	45660388000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	148857716
+SPILL	COMPRESS_BYTE_COUNT	46270229
+MERGE	TOTAL_MERGE	1688000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	82891018000
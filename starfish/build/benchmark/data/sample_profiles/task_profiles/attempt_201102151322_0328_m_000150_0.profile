@@ -0,0 +1,43 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/orders/orders.tbl.1	0
+MAP	STARTUP_MEM	212680928
+MAP	SETUP	3508000
+MAP	SETUP_MEM	212680928
+MAP	CLEANUP	88000
+MAP	CLEANUP_MEM	225159480
+MAP	TOTAL_RUN	42331590000
+MAP	READ	9168236000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9528846
+MAP	VALUE_BYTE_COUNT	133051522
+MAP	MAP	28186785000
+MAP	WRITE	9317405000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	2504304000
+MAP	SERIALIZE_OUTPUT	2406934000
+MAP	MAP_MEM	225159480
+SPILL	SORT_AND_SPILL	49168977000
+SPILL	QUICK_SORT	3171702000
+SPILL	SORT_COUNT	1048576
+SPILL	COMBINE	0
+SPILL	WRITE	45997275000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	133587057
+SPILL	COMPRESS_BYTE_COUNT	42386104
+SPILL	SORT_AND_SPILL	4305410000
+SPILL	QUICK_SORT	133758000
+SPILL	SORT_COUNT	117635
+SPILL	COMBINE	0
+SPILL	WRITE	4171652000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	15049230
+SPILL	COMPRESS_BYTE_COUNT	4771668
+MERGE	TOTAL_MERGE	40375340000
+MERGE	READ_WRITE	40216114000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	131887036000
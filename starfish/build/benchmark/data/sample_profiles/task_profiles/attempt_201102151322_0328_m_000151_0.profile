@@ -0,0 +1,43 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/orders/orders.tbl.10	0
+MAP	STARTUP_MEM	213534112
+MAP	SETUP	4252000
+MAP	SETUP_MEM	213534112
+MAP	CLEANUP	85000
+MAP	CLEANUP_MEM	216866936
+MAP	TOTAL_RUN	35884995629
+MAP	READ	5249036000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9433651
+MAP	VALUE_BYTE_COUNT	133063364
+MAP	MAP	24728273000
+MAP	WRITE	9577511000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	2073926000
+MAP	SERIALIZE_OUTPUT	3083191000
+MAP	MAP_MEM	216866936
+SPILL	SORT_AND_SPILL	45455576000
+SPILL	QUICK_SORT	4234858000
+SPILL	SORT_COUNT	1048576
+SPILL	COMBINE	0
+SPILL	WRITE	41220718000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136224346
+SPILL	COMPRESS_BYTE_COUNT	42443198
+SPILL	SORT_AND_SPILL	4402017000
+SPILL	QUICK_SORT	125504000
+SPILL	SORT_COUNT	105791
+SPILL	COMBINE	0
+SPILL	WRITE	4276513000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	13740904
+SPILL	COMPRESS_BYTE_COUNT	4310753
+MERGE	TOTAL_MERGE	47029706559
+MERGE	READ_WRITE	46828691559
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	126381329188
@@ -0,0 +1,43 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/orders/orders.tbl.11	0
+MAP	STARTUP_MEM	213544152
+MAP	SETUP	88878000
+MAP	SETUP_MEM	213544152
+MAP	CLEANUP	92000
+MAP	CLEANUP_MEM	216312664
+MAP	TOTAL_RUN	59505448000
+MAP	READ	4317983000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9429698
+MAP	VALUE_BYTE_COUNT	133063925
+MAP	MAP	47528137000
+MAP	WRITE	21563446000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1358811000
+MAP	SERIALIZE_OUTPUT	12615672000
+MAP	MAP_MEM	216312664
+SPILL	SORT_AND_SPILL	53491659000
+SPILL	QUICK_SORT	6287780000
+SPILL	SORT_COUNT	1048576
+SPILL	COMBINE	0
+SPILL	WRITE	47203879000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136268695
+SPILL	COMPRESS_BYTE_COUNT	42451767
+SPILL	SORT_AND_SPILL	3046391000
+SPILL	QUICK_SORT	133739000
+SPILL	SORT_COUNT	105320
+SPILL	COMBINE	0
+SPILL	WRITE	2912652000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	13691814
+SPILL	COMPRESS_BYTE_COUNT	4293989
+MERGE	TOTAL_MERGE	62159021000
+MERGE	READ_WRITE	61989903000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	160363755000
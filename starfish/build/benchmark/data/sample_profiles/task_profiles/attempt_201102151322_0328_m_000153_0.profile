@@ -0,0 +1,43 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/orders/orders.tbl.12	0
+MAP	STARTUP_MEM	213522808
+MAP	SETUP	3434000
+MAP	SETUP_MEM	213522808
+MAP	CLEANUP	185000
+MAP	CLEANUP_MEM	215006896
+MAP	TOTAL_RUN	66102137000
+MAP	READ	22653612000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9430163
+MAP	VALUE_BYTE_COUNT	133063831
+MAP	MAP	36786594000
+MAP	WRITE	20209261000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1123674000
+MAP	SERIALIZE_OUTPUT	6321355000
+MAP	MAP_MEM	215569056
+SPILL	SORT_AND_SPILL	69645687000
+SPILL	QUICK_SORT	7645246000
+SPILL	SORT_COUNT	1048576
+SPILL	COMBINE	0
+SPILL	WRITE	62000441000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136272027
+SPILL	COMPRESS_BYTE_COUNT	42451709
+SPILL	SORT_AND_SPILL	4423647000
+SPILL	QUICK_SORT	814861000
+SPILL	SORT_COUNT	105358
+SPILL	COMBINE	0
+SPILL	WRITE	3608786000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	13689963
+SPILL	COMPRESS_BYTE_COUNT	4294186
+MERGE	TOTAL_MERGE	30508741000
+MERGE	READ_WRITE	30438115000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	155980583000
@@ -0,0 +1,43 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/orders/orders.tbl.13	0
+MAP	STARTUP_MEM	213541000
+MAP	SETUP	4157000
+MAP	SETUP_MEM	213541000
+MAP	CLEANUP	125000
+MAP	CLEANUP_MEM	213461240
+MAP	TOTAL_RUN	38608754000
+MAP	READ	7247646000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9430511
+MAP	VALUE_BYTE_COUNT	133063805
+MAP	MAP	25397244000
+MAP	WRITE	8002489000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1385570000
+MAP	SERIALIZE_OUTPUT	2801068000
+MAP	MAP_MEM	214023400
+SPILL	SORT_AND_SPILL	66625798736
+SPILL	QUICK_SORT	3974736000
+SPILL	SORT_COUNT	1048576
+SPILL	COMBINE	0
+SPILL	WRITE	62651062736
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136268725
+SPILL	COMPRESS_BYTE_COUNT	42450006
+SPILL	SORT_AND_SPILL	2592028585
+SPILL	QUICK_SORT	121058000
+SPILL	SORT_COUNT	105415
+SPILL	COMBINE	0
+SPILL	WRITE	2470970585
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	13694749
+SPILL	COMPRESS_BYTE_COUNT	4295698
+MERGE	TOTAL_MERGE	46021704000
+MERGE	READ_WRITE	45410603000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	153665924321
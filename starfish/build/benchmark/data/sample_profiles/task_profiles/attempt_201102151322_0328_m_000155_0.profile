@@ -0,0 +1,43 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/orders/orders.tbl.14	0
+MAP	STARTUP_MEM	213529232
+MAP	SETUP	4073000
+MAP	SETUP_MEM	213529232
+MAP	CLEANUP	85000
+MAP	CLEANUP_MEM	218329320
+MAP	TOTAL_RUN	31469834000
+MAP	READ	4813691000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9431618
+MAP	VALUE_BYTE_COUNT	133063667
+MAP	MAP	22284713000
+MAP	WRITE	6894437000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1072709000
+MAP	SERIALIZE_OUTPUT	3238993000
+MAP	MAP_MEM	218891480
+SPILL	SORT_AND_SPILL	42032038000
+SPILL	QUICK_SORT	2519390000
+SPILL	SORT_COUNT	1048576
+SPILL	COMBINE	0
+SPILL	WRITE	39512648000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136245299
+SPILL	COMPRESS_BYTE_COUNT	42446480
+SPILL	SORT_AND_SPILL	2764601000
+SPILL	QUICK_SORT	120974000
+SPILL	SORT_COUNT	105553
+SPILL	COMBINE	0
+SPILL	WRITE	2643627000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	13717667
+SPILL	COMPRESS_BYTE_COUNT	4303482
+MERGE	TOTAL_MERGE	32211463000
+MERGE	READ_WRITE	32117405000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	101798483000
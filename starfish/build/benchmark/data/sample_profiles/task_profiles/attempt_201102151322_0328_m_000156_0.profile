@@ -0,0 +1,43 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/orders/orders.tbl.15	0
+MAP	STARTUP_MEM	215241288
+MAP	SETUP	3759000
+MAP	SETUP_MEM	215241288
+MAP	CLEANUP	75000
+MAP	CLEANUP_MEM	218491288
+MAP	TOTAL_RUN	48377208000
+MAP	READ	16824735000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9430582
+MAP	VALUE_BYTE_COUNT	133063810
+MAP	MAP	24208305000
+MAP	WRITE	6673743000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1120310000
+MAP	SERIALIZE_OUTPUT	3116247000
+MAP	MAP_MEM	218491288
+SPILL	SORT_AND_SPILL	52617294000
+SPILL	QUICK_SORT	5214291000
+SPILL	SORT_COUNT	1048576
+SPILL	COMBINE	0
+SPILL	WRITE	47403003000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136263036
+SPILL	COMPRESS_BYTE_COUNT	42448286
+SPILL	SORT_AND_SPILL	3804967000
+SPILL	QUICK_SORT	122782000
+SPILL	SORT_COUNT	105425
+SPILL	COMBINE	0
+SPILL	WRITE	3682185000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	13699645
+SPILL	COMPRESS_BYTE_COUNT	4298292
+MERGE	TOTAL_MERGE	43107559000
+MERGE	READ_WRITE	43007865000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	139404017000
@@ -0,0 +1,43 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/orders/orders.tbl.16	0
+MAP	STARTUP_MEM	212676168
+MAP	SETUP	3660000
+MAP	SETUP_MEM	212676168
+MAP	CLEANUP	87000
+MAP	CLEANUP_MEM	218645632
+MAP	TOTAL_RUN	55120185000
+MAP	READ	13158654000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9432003
+MAP	VALUE_BYTE_COUNT	133063616
+MAP	MAP	37669274000
+MAP	WRITE	13940426000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1224355000
+MAP	SERIALIZE_OUTPUT	7674857000
+MAP	MAP_MEM	218645632
+SPILL	SORT_AND_SPILL	60130961000
+SPILL	QUICK_SORT	2862625000
+SPILL	SORT_COUNT	1048576
+SPILL	COMBINE	0
+SPILL	WRITE	57268336000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136245369
+SPILL	COMPRESS_BYTE_COUNT	42445448
+SPILL	SORT_AND_SPILL	7643308000
+SPILL	QUICK_SORT	1593520000
+SPILL	SORT_COUNT	105589
+SPILL	COMBINE	0
+SPILL	WRITE	6049788000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	13718174
+SPILL	COMPRESS_BYTE_COUNT	4303991
+MERGE	TOTAL_MERGE	40908607000
+MERGE	READ_WRITE	34417456000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	150943988000
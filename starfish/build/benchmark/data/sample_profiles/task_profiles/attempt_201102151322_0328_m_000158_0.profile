@@ -0,0 +1,43 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/orders/orders.tbl.17	0
+MAP	STARTUP_MEM	213550056
+MAP	SETUP	3631000
+MAP	SETUP_MEM	213550056
+MAP	CLEANUP	82000
+MAP	CLEANUP_MEM	216642720
+MAP	TOTAL_RUN	31892462000
+MAP	READ	4526704000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9417996
+MAP	VALUE_BYTE_COUNT	133065203
+MAP	MAP	22308198000
+MAP	WRITE	8738056000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1032029000
+MAP	SERIALIZE_OUTPUT	4642155000
+MAP	MAP_MEM	216642720
+SPILL	SORT_AND_SPILL	40615580000
+SPILL	QUICK_SORT	2774231000
+SPILL	SORT_COUNT	1048576
+SPILL	COMBINE	0
+SPILL	WRITE	37841349000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136374264
+SPILL	COMPRESS_BYTE_COUNT	42469971
+SPILL	SORT_AND_SPILL	4567261000
+SPILL	QUICK_SORT	132695000
+SPILL	SORT_COUNT	104002
+SPILL	COMBINE	0
+SPILL	WRITE	4434566000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	13726615
+SPILL	COMPRESS_BYTE_COUNT	4267300
+MERGE	TOTAL_MERGE	32206180000
+MERGE	READ_WRITE	29453878000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	101639592000
@@ -0,0 +1,43 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/orders/orders.tbl.18	0
+MAP	STARTUP_MEM	213540224
+MAP	SETUP	3366000
+MAP	SETUP_MEM	213540224
+MAP	CLEANUP	113000
+MAP	CLEANUP_MEM	274387456
+MAP	TOTAL_RUN	33298620000
+MAP	READ	5962299000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9351485
+MAP	VALUE_BYTE_COUNT	133073426
+MAP	MAP	23355504000
+MAP	WRITE	7335470000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	2192510000
+MAP	SERIALIZE_OUTPUT	2485202000
+MAP	MAP_MEM	274387456
+SPILL	SORT_AND_SPILL	58921275000
+SPILL	QUICK_SORT	5673741000
+SPILL	SORT_COUNT	1048576
+SPILL	COMBINE	0
+SPILL	WRITE	53247534000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	138382459
+SPILL	COMPRESS_BYTE_COUNT	42714863
+SPILL	SORT_AND_SPILL	3774972000
+SPILL	QUICK_SORT	114210000
+SPILL	SORT_COUNT	95730
+SPILL	COMBINE	0
+SPILL	WRITE	3660762000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12629945
+SPILL	COMPRESS_BYTE_COUNT	3927458
+MERGE	TOTAL_MERGE	34438689000
+MERGE	READ_WRITE	34332303000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	125533566000
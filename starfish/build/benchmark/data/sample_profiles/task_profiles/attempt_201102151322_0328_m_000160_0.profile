@@ -0,0 +1,43 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/orders/orders.tbl.19	0
+MAP	STARTUP_MEM	213539440
+MAP	SETUP	3467000
+MAP	SETUP_MEM	213539440
+MAP	CLEANUP	99000
+MAP	CLEANUP_MEM	275194288
+MAP	TOTAL_RUN	54236553736
+MAP	READ	11213828000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9347913
+MAP	VALUE_BYTE_COUNT	133073948
+MAP	MAP	34183206736
+MAP	WRITE	12612269000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	3036557000
+MAP	SERIALIZE_OUTPUT	3782967000
+MAP	MAP_MEM	275194288
+SPILL	SORT_AND_SPILL	52010781000
+SPILL	QUICK_SORT	4026878000
+SPILL	SORT_COUNT	1048576
+SPILL	COMBINE	0
+SPILL	WRITE	47983903000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	138429504
+SPILL	COMPRESS_BYTE_COUNT	42730160
+SPILL	SORT_AND_SPILL	2513636585
+SPILL	QUICK_SORT	133718000
+SPILL	SORT_COUNT	95296
+SPILL	COMBINE	0
+SPILL	WRITE	2379918585
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12578552
+SPILL	COMPRESS_BYTE_COUNT	3910120
+MERGE	TOTAL_MERGE	46266099000
+MERGE	READ_WRITE	45431592000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	146120362321
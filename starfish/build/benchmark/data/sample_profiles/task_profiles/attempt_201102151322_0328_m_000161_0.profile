@@ -0,0 +1,43 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/orders/orders.tbl.2	0
+MAP	STARTUP_MEM	213522848
+MAP	SETUP	102695000
+MAP	SETUP_MEM	213522848
+MAP	CLEANUP	92000
+MAP	CLEANUP_MEM	226215176
+MAP	TOTAL_RUN	64990285524
+MAP	READ	10102226000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9500799
+MAP	VALUE_BYTE_COUNT	133055089
+MAP	MAP	39300703524
+MAP	WRITE	14557931000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1791579000
+MAP	SERIALIZE_OUTPUT	4072330000
+MAP	MAP_MEM	226777336
+SPILL	SORT_AND_SPILL	40241689220
+SPILL	QUICK_SORT	2074091000
+SPILL	SORT_COUNT	1048576
+SPILL	COMBINE	0
+SPILL	WRITE	38167598220
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	134209582
+SPILL	COMPRESS_BYTE_COUNT	42276766
+SPILL	SORT_AND_SPILL	3183377000
+SPILL	QUICK_SORT	193088000
+SPILL	SORT_COUNT	114137
+SPILL	COMBINE	0
+SPILL	WRITE	2990289000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	14838418
+SPILL	COMPRESS_BYTE_COUNT	4650203
+MERGE	TOTAL_MERGE	53416437371
+MERGE	READ_WRITE	53090185371
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	153994070115
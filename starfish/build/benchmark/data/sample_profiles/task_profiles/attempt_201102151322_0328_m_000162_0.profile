@@ -0,0 +1,43 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/orders/orders.tbl.20	0
+MAP	STARTUP_MEM	213536528
+MAP	SETUP	3376000
+MAP	SETUP_MEM	213536528
+MAP	CLEANUP	82000
+MAP	CLEANUP_MEM	276286480
+MAP	TOTAL_RUN	38291693000
+MAP	READ	6512435000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9350114
+MAP	VALUE_BYTE_COUNT	133073669
+MAP	MAP	26465906000
+MAP	WRITE	7839377000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1355679000
+MAP	SERIALIZE_OUTPUT	2447728000
+MAP	MAP_MEM	276286480
+SPILL	SORT_AND_SPILL	38362162000
+SPILL	QUICK_SORT	3126985000
+SPILL	SORT_COUNT	1048576
+SPILL	COMBINE	0
+SPILL	WRITE	35235177000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	138397118
+SPILL	COMPRESS_BYTE_COUNT	42723185
+SPILL	SORT_AND_SPILL	3504633000
+SPILL	QUICK_SORT	114269000
+SPILL	SORT_COUNT	95569
+SPILL	COMBINE	0
+SPILL	WRITE	3390364000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12614063
+SPILL	COMPRESS_BYTE_COUNT	3922308
+MERGE	TOTAL_MERGE	31412653000
+MERGE	READ_WRITE	31170819000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	106466116000
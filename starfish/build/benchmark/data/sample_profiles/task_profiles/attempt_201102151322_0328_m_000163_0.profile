@@ -0,0 +1,43 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/orders/orders.tbl.21	0
+MAP	STARTUP_MEM	213548544
+MAP	SETUP	3353000
+MAP	SETUP_MEM	213548544
+MAP	CLEANUP	75000
+MAP	CLEANUP_MEM	276081912
+MAP	TOTAL_RUN	39173576000
+MAP	READ	7065095000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9349046
+MAP	VALUE_BYTE_COUNT	133073798
+MAP	MAP	23129526000
+MAP	WRITE	10548023000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	2348367000
+MAP	SERIALIZE_OUTPUT	2327772000
+MAP	MAP_MEM	276644072
+SPILL	SORT_AND_SPILL	35169905000
+SPILL	QUICK_SORT	3793947000
+SPILL	SORT_COUNT	1048576
+SPILL	COMBINE	0
+SPILL	WRITE	31375958000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	138407501
+SPILL	COMPRESS_BYTE_COUNT	42727612
+SPILL	SORT_AND_SPILL	2574308000
+SPILL	QUICK_SORT	109523000
+SPILL	SORT_COUNT	95433
+SPILL	COMBINE	0
+SPILL	WRITE	2464785000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12601304
+SPILL	COMPRESS_BYTE_COUNT	3917816
+MERGE	TOTAL_MERGE	31216481000
+MERGE	READ_WRITE	31144458000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	102523507000
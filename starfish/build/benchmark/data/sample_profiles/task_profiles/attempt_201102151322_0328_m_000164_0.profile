@@ -0,0 +1,43 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/orders/orders.tbl.22	0
+MAP	STARTUP_MEM	213543776
+MAP	SETUP	9292000
+MAP	SETUP_MEM	213543776
+MAP	CLEANUP	84000
+MAP	CLEANUP_MEM	274840712
+MAP	TOTAL_RUN	38306790000
+MAP	READ	6497151000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9352484
+MAP	VALUE_BYTE_COUNT	133073328
+MAP	MAP	25206447000
+MAP	WRITE	9393484000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1426719000
+MAP	SERIALIZE_OUTPUT	3069992000
+MAP	MAP_MEM	274840712
+SPILL	SORT_AND_SPILL	39026203220
+SPILL	QUICK_SORT	3900881000
+SPILL	SORT_COUNT	1048576
+SPILL	COMBINE	0
+SPILL	WRITE	35125322220
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	138365874
+SPILL	COMPRESS_BYTE_COUNT	42718695
+SPILL	SORT_AND_SPILL	2418080000
+SPILL	QUICK_SORT	111288000
+SPILL	SORT_COUNT	95861
+SPILL	COMBINE	0
+SPILL	WRITE	2306792000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12646070
+SPILL	COMPRESS_BYTE_COUNT	3933658
+MERGE	TOTAL_MERGE	49261017371
+MERGE	READ_WRITE	48984173371
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	123165910591
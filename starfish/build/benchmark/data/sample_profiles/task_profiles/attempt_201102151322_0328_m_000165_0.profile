@@ -0,0 +1,43 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/orders/orders.tbl.23	0
+MAP	STARTUP_MEM	213534824
+MAP	SETUP	18047000
+MAP	SETUP_MEM	213534824
+MAP	CLEANUP	84000
+MAP	CLEANUP_MEM	275632640
+MAP	TOTAL_RUN	45294179000
+MAP	READ	8195800000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9351336
+MAP	VALUE_BYTE_COUNT	133073427
+MAP	MAP	32827876000
+MAP	WRITE	13584380000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	3023197000
+MAP	SERIALIZE_OUTPUT	6881472000
+MAP	MAP_MEM	275632640
+SPILL	SORT_AND_SPILL	39873974000
+SPILL	QUICK_SORT	8377664000
+SPILL	SORT_COUNT	1048576
+SPILL	COMBINE	0
+SPILL	WRITE	31496310000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	138372303
+SPILL	COMPRESS_BYTE_COUNT	42720415
+SPILL	SORT_AND_SPILL	6404537000
+SPILL	QUICK_SORT	235215000
+SPILL	SORT_COUNT	95745
+SPILL	COMBINE	0
+SPILL	WRITE	6169322000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12640618
+SPILL	COMPRESS_BYTE_COUNT	3929135
+MERGE	TOTAL_MERGE	61503712000
+MERGE	READ_WRITE	60647145000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	144083166000
@@ -0,0 +1,43 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/orders/orders.tbl.24	0
+MAP	STARTUP_MEM	212687424
+MAP	SETUP	4657000
+MAP	SETUP_MEM	213543064
+MAP	CLEANUP	99000
+MAP	CLEANUP_MEM	275029032
+MAP	TOTAL_RUN	34036237293
+MAP	READ	6045727000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9351610
+MAP	VALUE_BYTE_COUNT	133073432
+MAP	MAP	22397127293
+MAP	WRITE	8733918000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1259270000
+MAP	SERIALIZE_OUTPUT	3102893000
+MAP	MAP_MEM	276429288
+SPILL	SORT_AND_SPILL	62545334141
+SPILL	QUICK_SORT	3089020000
+SPILL	SORT_COUNT	1048576
+SPILL	COMBINE	0
+SPILL	WRITE	59456314141
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	138382976
+SPILL	COMPRESS_BYTE_COUNT	42722698
+SPILL	SORT_AND_SPILL	3989360000
+SPILL	QUICK_SORT	115431000
+SPILL	SORT_COUNT	95742
+SPILL	COMBINE	0
+SPILL	WRITE	3873929000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12629139
+SPILL	COMPRESS_BYTE_COUNT	3928186
+MERGE	TOTAL_MERGE	43789886293
+MERGE	READ_WRITE	43555337293
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	143658059727
@@ -0,0 +1,43 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/orders/orders.tbl.25	0
+MAP	STARTUP_MEM	212683864
+MAP	SETUP	3474000
+MAP	SETUP_MEM	212683864
+MAP	CLEANUP	84000
+MAP	CLEANUP_MEM	275757512
+MAP	TOTAL_RUN	47553492000
+MAP	READ	10954018000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9350328
+MAP	VALUE_BYTE_COUNT	133073690
+MAP	MAP	29239744000
+MAP	WRITE	13879181000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	2112592000
+MAP	SERIALIZE_OUTPUT	4340271000
+MAP	MAP_MEM	276319672
+SPILL	SORT_AND_SPILL	30170812000
+SPILL	QUICK_SORT	2452861000
+SPILL	SORT_COUNT	1048576
+SPILL	COMBINE	0
+SPILL	WRITE	27717951000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	138407655
+SPILL	COMPRESS_BYTE_COUNT	42726839
+SPILL	SORT_AND_SPILL	2301786000
+SPILL	QUICK_SORT	109444000
+SPILL	SORT_COUNT	95586
+SPILL	COMBINE	0
+SPILL	WRITE	2192342000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12603276
+SPILL	COMPRESS_BYTE_COUNT	3919308
+MERGE	TOTAL_MERGE	54104842000
+MERGE	READ_WRITE	52920535000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	124795995000
@@ -0,0 +1,43 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/orders/orders.tbl.26	0
+MAP	STARTUP_MEM	213552224
+MAP	SETUP	3302000
+MAP	SETUP_MEM	213552224
+MAP	CLEANUP	74000
+MAP	CLEANUP_MEM	275296232
+MAP	TOTAL_RUN	47828649000
+MAP	READ	4562910000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9352948
+MAP	VALUE_BYTE_COUNT	133073258
+MAP	MAP	36167586000
+MAP	WRITE	14245384000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1148800000
+MAP	SERIALIZE_OUTPUT	3092012000
+MAP	MAP_MEM	275296232
+SPILL	SORT_AND_SPILL	38507787000
+SPILL	QUICK_SORT	5498463000
+SPILL	SORT_COUNT	1048576
+SPILL	COMBINE	0
+SPILL	WRITE	33009324000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	138359639
+SPILL	COMPRESS_BYTE_COUNT	42712875
+SPILL	SORT_AND_SPILL	6020181000
+SPILL	QUICK_SORT	112411000
+SPILL	SORT_COUNT	95918
+SPILL	COMBINE	0
+SPILL	WRITE	5907770000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12654290
+SPILL	COMPRESS_BYTE_COUNT	3935212
+MERGE	TOTAL_MERGE	54855723000
+MERGE	READ_WRITE	53631539000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	140592063000
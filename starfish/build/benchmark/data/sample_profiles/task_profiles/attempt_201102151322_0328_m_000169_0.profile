@@ -0,0 +1,43 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/orders/orders.tbl.27	0
+MAP	STARTUP_MEM	213517744
+MAP	SETUP	3286000
+MAP	SETUP_MEM	213517744
+MAP	CLEANUP	115000
+MAP	CLEANUP_MEM	273300136
+MAP	TOTAL_RUN	40921366000
+MAP	READ	6967848000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9349194
+MAP	VALUE_BYTE_COUNT	133073749
+MAP	MAP	27597342000
+MAP	WRITE	9526203000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1043889000
+MAP	SERIALIZE_OUTPUT	5587541000
+MAP	MAP_MEM	273300136
+SPILL	SORT_AND_SPILL	35808274000
+SPILL	QUICK_SORT	5733979000
+SPILL	SORT_COUNT	1048576
+SPILL	COMBINE	0
+SPILL	WRITE	30074295000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	138406656
+SPILL	COMPRESS_BYTE_COUNT	42726211
+SPILL	SORT_AND_SPILL	6128853000
+SPILL	QUICK_SORT	132089000
+SPILL	SORT_COUNT	95456
+SPILL	COMBINE	0
+SPILL	WRITE	5996764000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12603522
+SPILL	COMPRESS_BYTE_COUNT	3917869
+MERGE	TOTAL_MERGE	54625599000
+MERGE	READ_WRITE	52543145000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	134786371000
@@ -0,0 +1,43 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/orders/orders.tbl.28	0
+MAP	STARTUP_MEM	212652584
+MAP	SETUP	8925000
+MAP	SETUP_MEM	212652584
+MAP	CLEANUP	92000
+MAP	CLEANUP_MEM	276116560
+MAP	TOTAL_RUN	30317754000
+MAP	READ	6381462000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9352197
+MAP	VALUE_BYTE_COUNT	133073359
+MAP	MAP	19856454000
+MAP	WRITE	6571153000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1153084000
+MAP	SERIALIZE_OUTPUT	2454568000
+MAP	MAP_MEM	276116560
+SPILL	SORT_AND_SPILL	53627161000
+SPILL	QUICK_SORT	3154172000
+SPILL	SORT_COUNT	1048576
+SPILL	COMBINE	0
+SPILL	WRITE	50472989000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	138360600
+SPILL	COMPRESS_BYTE_COUNT	42712737
+SPILL	SORT_AND_SPILL	2383610000
+SPILL	QUICK_SORT	130820000
+SPILL	SORT_COUNT	95839
+SPILL	COMBINE	0
+SPILL	WRITE	2252790000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12652729
+SPILL	COMPRESS_BYTE_COUNT	3934387
+MERGE	TOTAL_MERGE	38400458000
+MERGE	READ_WRITE	38025258000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	121705327000
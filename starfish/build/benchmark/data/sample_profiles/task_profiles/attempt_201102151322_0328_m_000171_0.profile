@@ -0,0 +1,43 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/orders/orders.tbl.29	0
+MAP	STARTUP_MEM	212647680
+MAP	SETUP	3413000
+MAP	SETUP_MEM	212647680
+MAP	CLEANUP	81000
+MAP	CLEANUP_MEM	273582264
+MAP	TOTAL_RUN	40267824000
+MAP	READ	9443841000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9349928
+MAP	VALUE_BYTE_COUNT	133073625
+MAP	MAP	25400072000
+MAP	WRITE	7115455000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1092378000
+MAP	SERIALIZE_OUTPUT	2590184000
+MAP	MAP_MEM	273582264
+SPILL	SORT_AND_SPILL	50432215000
+SPILL	QUICK_SORT	3017655000
+SPILL	SORT_COUNT	1048576
+SPILL	COMBINE	0
+SPILL	WRITE	47414560000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	138407342
+SPILL	COMPRESS_BYTE_COUNT	42724150
+SPILL	SORT_AND_SPILL	3444512000
+SPILL	QUICK_SORT	111292000
+SPILL	SORT_COUNT	95538
+SPILL	COMBINE	0
+SPILL	WRITE	3333220000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12603524
+SPILL	COMPRESS_BYTE_COUNT	3919109
+MERGE	TOTAL_MERGE	32599182000
+MERGE	READ_WRITE	32499588000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	115210333000
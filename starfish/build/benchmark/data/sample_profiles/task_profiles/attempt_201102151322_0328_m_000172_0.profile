@@ -0,0 +1,43 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/orders/orders.tbl.3	0
+MAP	STARTUP_MEM	213539552
+MAP	SETUP	29394000
+MAP	SETUP_MEM	213539552
+MAP	CLEANUP	104000
+MAP	CLEANUP_MEM	217697232
+MAP	TOTAL_RUN	35489869141
+MAP	READ	6256263000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9430954
+MAP	VALUE_BYTE_COUNT	133063714
+MAP	MAP	23305334141
+MAP	WRITE	8637715000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1467874000
+MAP	SERIALIZE_OUTPUT	2804118000
+MAP	MAP_MEM	217697232
+SPILL	SORT_AND_SPILL	42220627293
+SPILL	QUICK_SORT	3409427000
+SPILL	SORT_COUNT	1048576
+SPILL	COMBINE	0
+SPILL	WRITE	38811200293
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136247938
+SPILL	COMPRESS_BYTE_COUNT	42444761
+SPILL	SORT_AND_SPILL	2926999000
+SPILL	QUICK_SORT	121254000
+SPILL	SORT_COUNT	105458
+SPILL	COMBINE	0
+SPILL	WRITE	2805745000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	13715625
+SPILL	COMPRESS_BYTE_COUNT	4299253
+MERGE	TOTAL_MERGE	67591454444
+MERGE	READ_WRITE	67006915444
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	146303298878
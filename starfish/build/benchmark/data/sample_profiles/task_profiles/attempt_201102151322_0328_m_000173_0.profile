@@ -0,0 +1,43 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/orders/orders.tbl.30	0
+MAP	STARTUP_MEM	212657480
+MAP	SETUP	3308000
+MAP	SETUP_MEM	212657480
+MAP	CLEANUP	78000
+MAP	CLEANUP_MEM	275097896
+MAP	TOTAL_RUN	45221096663
+MAP	READ	10366796000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9351850
+MAP	VALUE_BYTE_COUNT	133073414
+MAP	MAP	29653285663
+MAP	WRITE	11265694663
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1159464000
+MAP	SERIALIZE_OUTPUT	3640614000
+MAP	MAP_MEM	275097896
+SPILL	SORT_AND_SPILL	40467503663
+SPILL	QUICK_SORT	3144114000
+SPILL	SORT_COUNT	1048576
+SPILL	COMBINE	0
+SPILL	WRITE	37323389663
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	138380903
+SPILL	COMPRESS_BYTE_COUNT	42725920
+SPILL	SORT_AND_SPILL	2384545000
+SPILL	QUICK_SORT	112074000
+SPILL	SORT_COUNT	95768
+SPILL	COMBINE	0
+SPILL	WRITE	2272471000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12631546
+SPILL	COMPRESS_BYTE_COUNT	3927835
+MERGE	TOTAL_MERGE	31265001000
+MERGE	READ_WRITE	31180415000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	105336845663
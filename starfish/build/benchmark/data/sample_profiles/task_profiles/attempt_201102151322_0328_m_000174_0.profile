@@ -0,0 +1,43 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/orders/orders.tbl.4	0
+MAP	STARTUP_MEM	213538328
+MAP	SETUP	3349000
+MAP	SETUP_MEM	213538328
+MAP	CLEANUP	79000
+MAP	CLEANUP_MEM	217852224
+MAP	TOTAL_RUN	38258480663
+MAP	READ	7021761000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9429698
+MAP	VALUE_BYTE_COUNT	133063978
+MAP	MAP	26986392663
+MAP	WRITE	7717579663
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1048914000
+MAP	SERIALIZE_OUTPUT	2426674000
+MAP	MAP_MEM	217852224
+SPILL	SORT_AND_SPILL	38246136000
+SPILL	QUICK_SORT	2508266000
+SPILL	SORT_COUNT	1048576
+SPILL	COMBINE	0
+SPILL	WRITE	35737870000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136288569
+SPILL	COMPRESS_BYTE_COUNT	42453674
+SPILL	SORT_AND_SPILL	2616500000
+SPILL	QUICK_SORT	124424000
+SPILL	SORT_COUNT	105282
+SPILL	COMBINE	0
+SPILL	WRITE	2492076000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	13672994
+SPILL	COMPRESS_BYTE_COUNT	4289428
+MERGE	TOTAL_MERGE	37062037000
+MERGE	READ_WRITE	36988820000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	110051620663
@@ -0,0 +1,43 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/orders/orders.tbl.5	0
+MAP	STARTUP_MEM	213534728
+MAP	SETUP	4617000
+MAP	SETUP_MEM	213534728
+MAP	CLEANUP	89000
+MAP	CLEANUP_MEM	216310376
+MAP	TOTAL_RUN	36104211000
+MAP	READ	6634508000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9433849
+MAP	VALUE_BYTE_COUNT	133063408
+MAP	MAP	24024607000
+MAP	WRITE	8508580000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1700139000
+MAP	SERIALIZE_OUTPUT	3012269000
+MAP	MAP_MEM	216872536
+SPILL	SORT_AND_SPILL	53406157444
+SPILL	QUICK_SORT	3455524000
+SPILL	SORT_COUNT	1048576
+SPILL	COMBINE	0
+SPILL	WRITE	49950633444
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136214458
+SPILL	COMPRESS_BYTE_COUNT	42441682
+SPILL	SORT_AND_SPILL	3401473000
+SPILL	QUICK_SORT	142938000
+SPILL	SORT_COUNT	105820
+SPILL	COMBINE	0
+SPILL	WRITE	3258535000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	13751196
+SPILL	COMPRESS_BYTE_COUNT	4314078
+MERGE	TOTAL_MERGE	61684980141
+MERGE	READ_WRITE	61421018141
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	150759856585
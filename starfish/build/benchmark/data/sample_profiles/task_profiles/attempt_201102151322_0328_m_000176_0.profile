@@ -0,0 +1,43 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/orders/orders.tbl.6	0
+MAP	STARTUP_MEM	213536216
+MAP	SETUP	3648000
+MAP	SETUP_MEM	213536216
+MAP	CLEANUP	105000
+MAP	CLEANUP_MEM	216328168
+MAP	TOTAL_RUN	49112741000
+MAP	READ	7377214000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9434949
+MAP	VALUE_BYTE_COUNT	133063253
+MAP	MAP	32626998000
+MAP	WRITE	12471579000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1252685000
+MAP	SERIALIZE_OUTPUT	2734706000
+MAP	MAP_MEM	216328168
+SPILL	SORT_AND_SPILL	55223199000
+SPILL	QUICK_SORT	3761927000
+SPILL	SORT_COUNT	1048576
+SPILL	COMBINE	0
+SPILL	WRITE	51461272000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136213260
+SPILL	COMPRESS_BYTE_COUNT	42439747
+SPILL	SORT_AND_SPILL	3761261000
+SPILL	QUICK_SORT	127281000
+SPILL	SORT_COUNT	105928
+SPILL	COMBINE	0
+SPILL	WRITE	3633980000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	13754110
+SPILL	COMPRESS_BYTE_COUNT	4313918
+MERGE	TOTAL_MERGE	55205177000
+MERGE	READ_WRITE	55135817000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	158165234000
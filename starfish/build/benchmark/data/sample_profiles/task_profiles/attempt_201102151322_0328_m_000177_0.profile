@@ -0,0 +1,43 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/orders/orders.tbl.7	0
+MAP	STARTUP_MEM	213551408
+MAP	SETUP	3487000
+MAP	SETUP_MEM	213551408
+MAP	CLEANUP	114000
+MAP	CLEANUP_MEM	214875376
+MAP	TOTAL_RUN	33050135000
+MAP	READ	4865681000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9431603
+MAP	VALUE_BYTE_COUNT	133063643
+MAP	MAP	22715660000
+MAP	WRITE	8060102000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1346117000
+MAP	SERIALIZE_OUTPUT	2914385000
+MAP	MAP_MEM	214875376
+SPILL	SORT_AND_SPILL	41163423000
+SPILL	QUICK_SORT	3120700000
+SPILL	SORT_COUNT	1048576
+SPILL	COMBINE	0
+SPILL	WRITE	38042723000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136248594
+SPILL	COMPRESS_BYTE_COUNT	42451466
+SPILL	SORT_AND_SPILL	4458351000
+SPILL	QUICK_SORT	125095000
+SPILL	SORT_COUNT	105530
+SPILL	COMBINE	0
+SPILL	WRITE	4333256000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	13715411
+SPILL	COMPRESS_BYTE_COUNT	4302223
+MERGE	TOTAL_MERGE	38042543000
+MERGE	READ_WRITE	37929657000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	114001937000
@@ -0,0 +1,43 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/orders/orders.tbl.8	0
+MAP	STARTUP_MEM	212689736
+MAP	SETUP	4262000
+MAP	SETUP_MEM	213545376
+MAP	CLEANUP	88000
+MAP	CLEANUP_MEM	218049072
+MAP	TOTAL_RUN	34295976000
+MAP	READ	6156112000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9430582
+MAP	VALUE_BYTE_COUNT	133063795
+MAP	MAP	24180641000
+MAP	WRITE	9828626000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1219535000
+MAP	SERIALIZE_OUTPUT	2396600000
+MAP	MAP_MEM	218049072
+SPILL	SORT_AND_SPILL	46582939000
+SPILL	QUICK_SORT	3822087000
+SPILL	SORT_COUNT	1048576
+SPILL	COMBINE	0
+SPILL	WRITE	42760852000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136271754
+SPILL	COMPRESS_BYTE_COUNT	42449416
+SPILL	SORT_AND_SPILL	2635761000
+SPILL	QUICK_SORT	134966000
+SPILL	SORT_COUNT	105411
+SPILL	COMBINE	0
+SPILL	WRITE	2500795000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	13691212
+SPILL	COMPRESS_BYTE_COUNT	4296477
+MERGE	TOTAL_MERGE	49784628000
+MERGE	READ_WRITE	49263206000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	126538169000
@@ -0,0 +1,43 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/orders/orders.tbl.9	0
+MAP	STARTUP_MEM	213545416
+MAP	SETUP	4882000
+MAP	SETUP_MEM	213545416
+MAP	CLEANUP	112000
+MAP	CLEANUP_MEM	216665240
+MAP	TOTAL_RUN	37308389629
+MAP	READ	10641101629
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9432190
+MAP	VALUE_BYTE_COUNT	133063589
+MAP	MAP	21234163000
+MAP	WRITE	7680492000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1254500000
+MAP	SERIALIZE_OUTPUT	2643783000
+MAP	MAP_MEM	217227400
+SPILL	SORT_AND_SPILL	61426244559
+SPILL	QUICK_SORT	7345639000
+SPILL	SORT_COUNT	1048576
+SPILL	COMBINE	0
+SPILL	WRITE	54080605559
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136239533
+SPILL	COMPRESS_BYTE_COUNT	42444955
+SPILL	SORT_AND_SPILL	2707474000
+SPILL	QUICK_SORT	124401000
+SPILL	SORT_COUNT	105622
+SPILL	COMBINE	0
+SPILL	WRITE	2583073000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	13725129
+SPILL	COMPRESS_BYTE_COUNT	4305476
+MERGE	TOTAL_MERGE	55921158671
+MERGE	READ_WRITE	55192656671
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	149917213859
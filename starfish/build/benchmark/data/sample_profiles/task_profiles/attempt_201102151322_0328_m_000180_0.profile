@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.19	0
+MAP	STARTUP_MEM	215855232
+MAP	SETUP	5273000
+MAP	SETUP_MEM	217150088
+MAP	CLEANUP	97000
+MAP	CLEANUP_MEM	229128408
+MAP	TOTAL_RUN	24755218000
+MAP	READ	5524974000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	7906302
+MAP	VALUE_BYTE_COUNT	114143184
+MAP	MAP	16145494000
+MAP	WRITE	4759766000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	806976000
+MAP	SERIALIZE_OUTPUT	1868904000
+MAP	MAP_MEM	229690568
+SPILL	SORT_AND_SPILL	45184167000
+SPILL	QUICK_SORT	1430795000
+SPILL	SORT_COUNT	878478
+SPILL	COMBINE	0
+SPILL	WRITE	43753372000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	128402739
+SPILL	COMPRESS_BYTE_COUNT	39409798
+MERGE	TOTAL_MERGE	1792000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	75756325000
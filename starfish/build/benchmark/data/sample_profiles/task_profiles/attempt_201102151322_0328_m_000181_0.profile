@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.21	0
+MAP	STARTUP_MEM	213524360
+MAP	SETUP	292276000
+MAP	SETUP_MEM	214812336
+MAP	CLEANUP	105000
+MAP	CLEANUP_MEM	229649664
+MAP	TOTAL_RUN	28781881000
+MAP	READ	5803988000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	7907625
+MAP	VALUE_BYTE_COUNT	114131874
+MAP	MAP	18210848000
+MAP	WRITE	6004557000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1122701000
+MAP	SERIALIZE_OUTPUT	2176845000
+MAP	MAP_MEM	229649664
+SPILL	SORT_AND_SPILL	55931869141
+SPILL	QUICK_SORT	1419332000
+SPILL	SORT_COUNT	878625
+SPILL	COMBINE	0
+SPILL	WRITE	54512537141
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	128391054
+SPILL	COMPRESS_BYTE_COUNT	39420418
+MERGE	TOTAL_MERGE	1876000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	86492269141
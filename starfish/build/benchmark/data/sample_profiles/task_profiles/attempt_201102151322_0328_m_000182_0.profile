@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.30	0
+MAP	STARTUP_MEM	213531832
+MAP	SETUP	4995000
+MAP	SETUP_MEM	214827312
+MAP	CLEANUP	93000
+MAP	CLEANUP_MEM	223428360
+MAP	TOTAL_RUN	23134206000
+MAP	READ	3534966000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	7886736
+MAP	VALUE_BYTE_COUNT	113878901
+MAP	MAP	15766840000
+MAP	WRITE	5301696000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1058190000
+MAP	SERIALIZE_OUTPUT	2151755000
+MAP	MAP_MEM	223990520
+SPILL	SORT_AND_SPILL	56456430000
+SPILL	QUICK_SORT	1349052000
+SPILL	SORT_COUNT	876304
+SPILL	COMBINE	0
+SPILL	WRITE	55107378000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	128104057
+SPILL	COMPRESS_BYTE_COUNT	39324472
+MERGE	TOTAL_MERGE	12708000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	80150724000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.26	0
+MAP	STARTUP_MEM	213517144
+MAP	SETUP	15134000
+MAP	SETUP_MEM	214798920
+MAP	CLEANUP	95000
+MAP	CLEANUP_MEM	222534400
+MAP	TOTAL_RUN	22038073000
+MAP	READ	3106294000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	7887555
+MAP	VALUE_BYTE_COUNT	113872866
+MAP	MAP	15878155000
+MAP	WRITE	4772992000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	836134000
+MAP	SERIALIZE_OUTPUT	1804397000
+MAP	MAP_MEM	222534400
+SPILL	SORT_AND_SPILL	61908835000
+SPILL	QUICK_SORT	1355382000
+SPILL	SORT_COUNT	876395
+SPILL	COMBINE	0
+SPILL	WRITE	60553453000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	128097932
+SPILL	COMPRESS_BYTE_COUNT	39323049
+MERGE	TOTAL_MERGE	3381000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	85299447000
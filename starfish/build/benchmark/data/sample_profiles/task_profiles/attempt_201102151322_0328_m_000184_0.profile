@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.23	0
+MAP	STARTUP_MEM	213536096
+MAP	SETUP	6032000
+MAP	SETUP_MEM	214835840
+MAP	CLEANUP	97000
+MAP	CLEANUP_MEM	221126904
+MAP	TOTAL_RUN	31641311888
+MAP	READ	4722487000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	7879455
+MAP	VALUE_BYTE_COUNT	113748574
+MAP	MAP	20763690888
+MAP	WRITE	6804809000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1292905000
+MAP	SERIALIZE_OUTPUT	2517627000
+MAP	MAP_MEM	221126904
+SPILL	SORT_AND_SPILL	43488415736
+SPILL	QUICK_SORT	1510248000
+SPILL	SORT_COUNT	875495
+SPILL	COMBINE	0
+SPILL	WRITE	41978167736
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	127958799
+SPILL	COMPRESS_BYTE_COUNT	39280330
+MERGE	TOTAL_MERGE	2112000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	75849583624
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.28	0
+MAP	STARTUP_MEM	213523544
+MAP	SETUP	22466000
+MAP	SETUP_MEM	214811816
+MAP	CLEANUP	95000
+MAP	CLEANUP_MEM	220534720
+MAP	TOTAL_RUN	23142523000
+MAP	READ	3141923000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	7879914
+MAP	VALUE_BYTE_COUNT	113743049
+MAP	MAP	16581779000
+MAP	WRITE	5125684000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	854852000
+MAP	SERIALIZE_OUTPUT	1866910000
+MAP	MAP_MEM	221096880
+SPILL	SORT_AND_SPILL	64504868000
+SPILL	QUICK_SORT	1367187000
+SPILL	SORT_COUNT	875546
+SPILL	COMBINE	0
+SPILL	WRITE	63137681000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	127952826
+SPILL	COMPRESS_BYTE_COUNT	39289465
+MERGE	TOTAL_MERGE	13103000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	88347536000
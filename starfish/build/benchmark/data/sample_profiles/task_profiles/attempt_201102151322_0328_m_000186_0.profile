@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.20	0
+MAP	STARTUP_MEM	214190096
+MAP	SETUP	5796000
+MAP	SETUP_MEM	216363400
+MAP	CLEANUP	92000
+MAP	CLEANUP_MEM	222516528
+MAP	TOTAL_RUN	31818344000
+MAP	READ	7989178000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	7879716
+MAP	VALUE_BYTE_COUNT	113740572
+MAP	MAP	20776912000
+MAP	WRITE	6227473000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	972142000
+MAP	SERIALIZE_OUTPUT	1824780000
+MAP	MAP_MEM	222516528
+SPILL	SORT_AND_SPILL	43076589000
+SPILL	QUICK_SORT	1561989000
+SPILL	SORT_COUNT	875524
+SPILL	COMBINE	0
+SPILL	WRITE	41514600000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	127950811
+SPILL	COMPRESS_BYTE_COUNT	39280039
+MERGE	TOTAL_MERGE	1622000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	79271038000
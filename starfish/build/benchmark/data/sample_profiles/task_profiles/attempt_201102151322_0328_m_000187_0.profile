@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.18	0
+MAP	STARTUP_MEM	212701208
+MAP	SETUP	33630000
+MAP	SETUP_MEM	214878552
+MAP	CLEANUP	96000
+MAP	CLEANUP_MEM	219724688
+MAP	TOTAL_RUN	27791193000
+MAP	READ	6123415000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	7876854
+MAP	VALUE_BYTE_COUNT	113693384
+MAP	MAP	16347974000
+MAP	WRITE	5045696000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	793283000
+MAP	SERIALIZE_OUTPUT	2120689000
+MAP	MAP_MEM	219724688
+SPILL	SORT_AND_SPILL	39896649000
+SPILL	QUICK_SORT	3516143000
+SPILL	SORT_COUNT	875206
+SPILL	COMBINE	0
+SPILL	WRITE	36380506000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	127897600
+SPILL	COMPRESS_BYTE_COUNT	39266906
+MERGE	TOTAL_MERGE	1603000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	68323137000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.24	0
+MAP	STARTUP_MEM	213540256
+MAP	SETUP	3488000
+MAP	SETUP_MEM	214854088
+MAP	CLEANUP	97000
+MAP	CLEANUP_MEM	216876328
+MAP	TOTAL_RUN	26217667000
+MAP	READ	3763777000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	7868448
+MAP	VALUE_BYTE_COUNT	113584379
+MAP	MAP	17993992000
+MAP	WRITE	6295773000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1183041000
+MAP	SERIALIZE_OUTPUT	2331349000
+MAP	MAP_MEM	216876328
+SPILL	SORT_AND_SPILL	30680299000
+SPILL	QUICK_SORT	1405960000
+SPILL	SORT_COUNT	874272
+SPILL	COMBINE	0
+SPILL	WRITE	29274339000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	127774597
+SPILL	COMPRESS_BYTE_COUNT	39225780
+MERGE	TOTAL_MERGE	1719000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	57403237000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.22	0
+MAP	STARTUP_MEM	213545088
+MAP	SETUP	4987000
+MAP	SETUP_MEM	214844992
+MAP	CLEANUP	87000
+MAP	CLEANUP_MEM	212592368
+MAP	TOTAL_RUN	21228649000
+MAP	READ	3094302000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	7853751
+MAP	VALUE_BYTE_COUNT	113379220
+MAP	MAP	15302568000
+MAP	WRITE	5123349000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	762002000
+MAP	SERIALIZE_OUTPUT	1941873000
+MAP	MAP_MEM	212592368
+SPILL	SORT_AND_SPILL	48829963000
+SPILL	QUICK_SORT	1396579000
+SPILL	SORT_COUNT	872639
+SPILL	COMBINE	0
+SPILL	WRITE	47433384000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	127542872
+SPILL	COMPRESS_BYTE_COUNT	39152463
+MERGE	TOTAL_MERGE	1681000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	70780002000
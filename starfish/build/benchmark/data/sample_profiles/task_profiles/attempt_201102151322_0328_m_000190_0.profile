@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.29	0
+MAP	STARTUP_MEM	213545384
+MAP	SETUP	5705000
+MAP	SETUP_MEM	214864360
+MAP	CLEANUP	85000
+MAP	CLEANUP_MEM	212592768
+MAP	TOTAL_RUN	22857428000
+MAP	READ	3740926000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	7852824
+MAP	VALUE_BYTE_COUNT	113361798
+MAP	MAP	15868020000
+MAP	WRITE	5132117000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	846818000
+MAP	SERIALIZE_OUTPUT	2294338000
+MAP	MAP_MEM	212592768
+SPILL	SORT_AND_SPILL	56647453000
+SPILL	QUICK_SORT	1326325000
+SPILL	SORT_COUNT	872536
+SPILL	COMBINE	0
+SPILL	WRITE	55321128000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	127523607
+SPILL	COMPRESS_BYTE_COUNT	39150229
+MERGE	TOTAL_MERGE	1650000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	80382966000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.27	0
+MAP	STARTUP_MEM	212697848
+MAP	SETUP	3716000
+MAP	SETUP_MEM	214016136
+MAP	CLEANUP	104000
+MAP	CLEANUP_MEM	213451456
+MAP	TOTAL_RUN	35607555888
+MAP	READ	7739442000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	7851600
+MAP	VALUE_BYTE_COUNT	113320577
+MAP	MAP	22725235888
+MAP	WRITE	9249348888
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1401530000
+MAP	SERIALIZE_OUTPUT	3445028888
+MAP	MAP_MEM	213451456
+SPILL	SORT_AND_SPILL	44611228736
+SPILL	QUICK_SORT	4802647000
+SPILL	SORT_COUNT	872400
+SPILL	COMBINE	0
+SPILL	WRITE	39808581736
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	127479060
+SPILL	COMPRESS_BYTE_COUNT	39136732
+MERGE	TOTAL_MERGE	1964000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	81314665624
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.25	0
+MAP	STARTUP_MEM	212698392
+MAP	SETUP	6178000
+MAP	SETUP_MEM	214026000
+MAP	CLEANUP	98000
+MAP	CLEANUP_MEM	276026360
+MAP	TOTAL_RUN	35917643000
+MAP	READ	6806346000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	7835904
+MAP	VALUE_BYTE_COUNT	113109355
+MAP	MAP	24915896000
+MAP	WRITE	7957367000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	888343000
+MAP	SERIALIZE_OUTPUT	4416567000
+MAP	MAP_MEM	276026360
+SPILL	SORT_AND_SPILL	46282830000
+SPILL	QUICK_SORT	4544953000
+SPILL	SORT_COUNT	870656
+SPILL	COMBINE	0
+SPILL	WRITE	41737877000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	127240353
+SPILL	COMPRESS_BYTE_COUNT	39062603
+MERGE	TOTAL_MERGE	1455000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	84766621000
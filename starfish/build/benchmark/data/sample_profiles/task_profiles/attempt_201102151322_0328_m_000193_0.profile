@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.17	0
+MAP	STARTUP_MEM	212695176
+MAP	SETUP	10346000
+MAP	SETUP_MEM	214875112
+MAP	CLEANUP	104000
+MAP	CLEANUP_MEM	267912064
+MAP	TOTAL_RUN	35590220000
+MAP	READ	6692936000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	7582050
+MAP	VALUE_BYTE_COUNT	109457853
+MAP	MAP	24054567000
+MAP	WRITE	8201832000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	4156004000
+MAP	SERIALIZE_OUTPUT	1937421000
+MAP	MAP_MEM	267912064
+SPILL	SORT_AND_SPILL	58009349000
+SPILL	QUICK_SORT	3523562000
+SPILL	SORT_COUNT	842450
+SPILL	COMBINE	0
+SPILL	WRITE	54485787000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	123131946
+SPILL	COMPRESS_BYTE_COUNT	37800375
+MERGE	TOTAL_MERGE	1021078000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	96268217000
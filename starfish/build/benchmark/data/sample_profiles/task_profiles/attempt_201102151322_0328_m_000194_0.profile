@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.13	0
+MAP	STARTUP_MEM	213519464
+MAP	SETUP	5690000
+MAP	SETUP_MEM	214802552
+MAP	CLEANUP	93000
+MAP	CLEANUP_MEM	245332728
+MAP	TOTAL_RUN	20048784000
+MAP	READ	2965002000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	7545168
+MAP	VALUE_BYTE_COUNT	108077720
+MAP	MAP	14210419000
+MAP	WRITE	4916806000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	803758000
+MAP	SERIALIZE_OUTPUT	2076260000
+MAP	MAP_MEM	245332728
+SPILL	SORT_AND_SPILL	29829228000
+SPILL	QUICK_SORT	1247056000
+SPILL	SORT_COUNT	838352
+SPILL	COMBINE	0
+SPILL	WRITE	28582172000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	120797838
+SPILL	COMPRESS_BYTE_COUNT	37548457
+MERGE	TOTAL_MERGE	1635000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	50364969000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.5	0
+MAP	STARTUP_MEM	214354720
+MAP	SETUP	5089000
+MAP	SETUP_MEM	215651112
+MAP	CLEANUP	96000
+MAP	CLEANUP_MEM	245511576
+MAP	TOTAL_RUN	27396759000
+MAP	READ	5558552000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	7542531
+MAP	VALUE_BYTE_COUNT	108048337
+MAP	MAP	17442702000
+MAP	WRITE	6321932000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	732129000
+MAP	SERIALIZE_OUTPUT	1626681000
+MAP	MAP_MEM	245511576
+SPILL	SORT_AND_SPILL	43725288000
+SPILL	QUICK_SORT	1627274000
+SPILL	SORT_COUNT	838059
+SPILL	COMBINE	0
+SPILL	WRITE	42098014000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	120764670
+SPILL	COMPRESS_BYTE_COUNT	37539280
+MERGE	TOTAL_MERGE	1668000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	72634689000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.16	0
+MAP	STARTUP_MEM	212667904
+MAP	SETUP	3572000
+MAP	SETUP_MEM	213955136
+MAP	CLEANUP	93000
+MAP	CLEANUP_MEM	237738784
+MAP	TOTAL_RUN	21839346000
+MAP	READ	2849788000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	7524963
+MAP	VALUE_BYTE_COUNT	107786620
+MAP	MAP	15117168000
+MAP	WRITE	4712897000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	781046000
+MAP	SERIALIZE_OUTPUT	1796006000
+MAP	MAP_MEM	238300944
+SPILL	SORT_AND_SPILL	54237318000
+SPILL	QUICK_SORT	1819274000
+SPILL	SORT_COUNT	836107
+SPILL	COMBINE	0
+SPILL	WRITE	52418044000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	120471214
+SPILL	COMPRESS_BYTE_COUNT	37450350
+MERGE	TOTAL_MERGE	1644000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	76729894000
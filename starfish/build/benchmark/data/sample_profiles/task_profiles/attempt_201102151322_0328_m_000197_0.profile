@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.11	0
+MAP	STARTUP_MEM	212689688
+MAP	SETUP	20414000
+MAP	SETUP_MEM	214864144
+MAP	CLEANUP	98000
+MAP	CLEANUP_MEM	238200864
+MAP	TOTAL_RUN	35804577000
+MAP	READ	5100942000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	7518564
+MAP	VALUE_BYTE_COUNT	107702489
+MAP	MAP	25282947000
+MAP	WRITE	7476562000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1742097000
+MAP	SERIALIZE_OUTPUT	1745149000
+MAP	MAP_MEM	238200864
+SPILL	SORT_AND_SPILL	41744681000
+SPILL	QUICK_SORT	3174660000
+SPILL	SORT_COUNT	835396
+SPILL	COMBINE	0
+SPILL	WRITE	38570021000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	120376806
+SPILL	COMPRESS_BYTE_COUNT	37418138
+MERGE	TOTAL_MERGE	1771000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	78106948000
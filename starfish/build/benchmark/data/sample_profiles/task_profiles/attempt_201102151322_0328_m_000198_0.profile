@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.6	0
+MAP	STARTUP_MEM	212673368
+MAP	SETUP	3802000
+MAP	SETUP_MEM	213957072
+MAP	CLEANUP	93000
+MAP	CLEANUP_MEM	235424752
+MAP	TOTAL_RUN	27023125727
+MAP	READ	4501154446
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	7514307
+MAP	VALUE_BYTE_COUNT	107642647
+MAP	MAP	17595168281
+MAP	WRITE	6387646281
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	931495000
+MAP	SERIALIZE_OUTPUT	2471615000
+MAP	MAP_MEM	235424752
+SPILL	SORT_AND_SPILL	51258725000
+SPILL	QUICK_SORT	3023210000
+SPILL	SORT_COUNT	834923
+SPILL	COMBINE	0
+SPILL	WRITE	48235515000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	120309732
+SPILL	COMPRESS_BYTE_COUNT	37394712
+MERGE	TOTAL_MERGE	1704000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	79354371727
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.4	0
+MAP	STARTUP_MEM	213541824
+MAP	SETUP	22678000
+MAP	SETUP_MEM	214857224
+MAP	CLEANUP	99000
+MAP	CLEANUP_MEM	233302264
+MAP	TOTAL_RUN	25679376671
+MAP	READ	3892569000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	7509942
+MAP	VALUE_BYTE_COUNT	107562816
+MAP	MAP	16946174671
+MAP	WRITE	5839885671
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1015092000
+MAP	SERIALIZE_OUTPUT	2149720000
+MAP	MAP_MEM	233302264
+SPILL	SORT_AND_SPILL	50295780000
+SPILL	QUICK_SORT	1377734000
+SPILL	SORT_COUNT	834438
+SPILL	COMBINE	0
+SPILL	WRITE	48918046000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	120221125
+SPILL	COMPRESS_BYTE_COUNT	37366133
+MERGE	TOTAL_MERGE	1756000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	79541166328
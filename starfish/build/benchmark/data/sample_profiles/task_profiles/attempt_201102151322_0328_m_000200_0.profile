@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.15	0
+MAP	STARTUP_MEM	213506512
+MAP	SETUP	5235000
+MAP	SETUP_MEM	214786616
+MAP	CLEANUP	107000
+MAP	CLEANUP_MEM	233309144
+MAP	TOTAL_RUN	25784354000
+MAP	READ	4435644000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	7507413
+MAP	VALUE_BYTE_COUNT	107521775
+MAP	MAP	16304021000
+MAP	WRITE	5663533000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1164328000
+MAP	SERIALIZE_OUTPUT	1677613000
+MAP	MAP_MEM	233871304
+SPILL	SORT_AND_SPILL	53544161000
+SPILL	QUICK_SORT	1418075000
+SPILL	SORT_COUNT	834157
+SPILL	COMBINE	0
+SPILL	WRITE	52126086000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	120177347
+SPILL	COMPRESS_BYTE_COUNT	37355513
+MERGE	TOTAL_MERGE	1629000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	80838297000
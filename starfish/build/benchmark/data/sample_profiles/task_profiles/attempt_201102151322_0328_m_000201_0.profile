@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.10	0
+MAP	STARTUP_MEM	212664080
+MAP	SETUP	44139000
+MAP	SETUP_MEM	214802808
+MAP	CLEANUP	104000
+MAP	CLEANUP_MEM	233386488
+MAP	TOTAL_RUN	30044587000
+MAP	READ	8067818000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	7505847
+MAP	VALUE_BYTE_COUNT	107521676
+MAP	MAP	16362058000
+MAP	WRITE	5581152000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	812676000
+MAP	SERIALIZE_OUTPUT	2038082000
+MAP	MAP_MEM	233386488
+SPILL	SORT_AND_SPILL	62469788000
+SPILL	QUICK_SORT	3951604000
+SPILL	SORT_COUNT	833983
+SPILL	COMBINE	0
+SPILL	WRITE	58518184000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	120175000
+SPILL	COMPRESS_BYTE_COUNT	37348544
+MERGE	TOTAL_MERGE	1723000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	94029467000
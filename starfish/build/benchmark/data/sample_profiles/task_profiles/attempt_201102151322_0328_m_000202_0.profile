@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.14	0
+MAP	STARTUP_MEM	213522144
+MAP	SETUP	3492000
+MAP	SETUP_MEM	214807960
+MAP	CLEANUP	104000
+MAP	CLEANUP_MEM	233995816
+MAP	TOTAL_RUN	36856620000
+MAP	READ	5634756000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	7506072
+MAP	VALUE_BYTE_COUNT	107513095
+MAP	MAP	27935632000
+MAP	WRITE	11876443000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	2052408000
+MAP	SERIALIZE_OUTPUT	6690391000
+MAP	MAP_MEM	233995816
+SPILL	SORT_AND_SPILL	43649042000
+SPILL	QUICK_SORT	4595131000
+SPILL	SORT_COUNT	834008
+SPILL	COMBINE	0
+SPILL	WRITE	39053911000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	120166372
+SPILL	COMPRESS_BYTE_COUNT	37357317
+MERGE	TOTAL_MERGE	1859000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	80998644000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.3	0
+MAP	STARTUP_MEM	213537184
+MAP	SETUP	5871000
+MAP	SETUP_MEM	214829064
+MAP	CLEANUP	99000
+MAP	CLEANUP_MEM	232521256
+MAP	TOTAL_RUN	24056134000
+MAP	READ	3537813000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	7502130
+MAP	VALUE_BYTE_COUNT	107457053
+MAP	MAP	16465569000
+MAP	WRITE	5880183000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1381050000
+MAP	SERIALIZE_OUTPUT	1977198000
+MAP	MAP_MEM	232521256
+SPILL	SORT_AND_SPILL	32042798000
+SPILL	QUICK_SORT	1297985000
+SPILL	SORT_COUNT	833570
+SPILL	COMBINE	0
+SPILL	WRITE	30744813000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	120104187
+SPILL	COMPRESS_BYTE_COUNT	37341629
+MERGE	TOTAL_MERGE	1690000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	56678293000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.12	0
+MAP	STARTUP_MEM	214195112
+MAP	SETUP	3696000
+MAP	SETUP_MEM	215508944
+MAP	CLEANUP	92000
+MAP	CLEANUP_MEM	229155232
+MAP	TOTAL_RUN	21217614000
+MAP	READ	3021045000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	7493013
+MAP	VALUE_BYTE_COUNT	107347969
+MAP	MAP	15418807000
+MAP	WRITE	4565139000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	901009000
+MAP	SERIALIZE_OUTPUT	1656102000
+MAP	MAP_MEM	229717392
+SPILL	SORT_AND_SPILL	32782738000
+SPILL	QUICK_SORT	1224559000
+SPILL	SORT_COUNT	832557
+SPILL	COMBINE	0
+SPILL	WRITE	31558179000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	119980351
+SPILL	COMPRESS_BYTE_COUNT	37297181
+MERGE	TOTAL_MERGE	2201000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	57402106000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.9	0
+MAP	STARTUP_MEM	213526120
+MAP	SETUP	30218000
+MAP	SETUP_MEM	214815008
+MAP	CLEANUP	110000
+MAP	CLEANUP_MEM	229630560
+MAP	TOTAL_RUN	25965561000
+MAP	READ	2921364000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	7490925
+MAP	VALUE_BYTE_COUNT	107316791
+MAP	MAP	18795827000
+MAP	WRITE	6140318000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1030987000
+MAP	SERIALIZE_OUTPUT	1933701000
+MAP	MAP_MEM	229630560
+SPILL	SORT_AND_SPILL	50473685000
+SPILL	QUICK_SORT	3365086000
+SPILL	SORT_COUNT	832325
+SPILL	COMBINE	0
+SPILL	WRITE	47108599000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	119944579
+SPILL	COMPRESS_BYTE_COUNT	37281612
+MERGE	TOTAL_MERGE	1670000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	76941323000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.7	0
+MAP	STARTUP_MEM	212669344
+MAP	SETUP	3494000
+MAP	SETUP_MEM	213957968
+MAP	CLEANUP	92000
+MAP	CLEANUP_MEM	222528496
+MAP	TOTAL_RUN	22629426000
+MAP	READ	3830751000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	7468434
+MAP	VALUE_BYTE_COUNT	106993885
+MAP	MAP	15240694000
+MAP	WRITE	4897750000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	774862000
+MAP	SERIALIZE_OUTPUT	2161705000
+MAP	MAP_MEM	222528496
+SPILL	SORT_AND_SPILL	27439033000
+SPILL	QUICK_SORT	1235974000
+SPILL	SORT_COUNT	829826
+SPILL	COMBINE	0
+SPILL	WRITE	26203059000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	119584680
+SPILL	COMPRESS_BYTE_COUNT	37169306
+MERGE	TOTAL_MERGE	1624000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	51450456000
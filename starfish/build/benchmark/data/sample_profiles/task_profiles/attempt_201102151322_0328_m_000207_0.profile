@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.8	0
+MAP	STARTUP_MEM	212698888
+MAP	SETUP	5812000
+MAP	SETUP_MEM	214018104
+MAP	CLEANUP	109000
+MAP	CLEANUP_MEM	217722040
+MAP	TOTAL_RUN	24696962000
+MAP	READ	3412786000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	7455366
+MAP	VALUE_BYTE_COUNT	106795198
+MAP	MAP	17020706000
+MAP	WRITE	6148362000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1250583000
+MAP	SERIALIZE_OUTPUT	1870225000
+MAP	MAP_MEM	218284200
+SPILL	SORT_AND_SPILL	40095038000
+SPILL	QUICK_SORT	2762375000
+SPILL	SORT_COUNT	828374
+SPILL	COMBINE	0
+SPILL	WRITE	37332663000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	119363819
+SPILL	COMPRESS_BYTE_COUNT	37097838
+MERGE	TOTAL_MERGE	1670000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	65360558000
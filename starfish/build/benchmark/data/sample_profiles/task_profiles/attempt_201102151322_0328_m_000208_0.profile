@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.2	0
+MAP	STARTUP_MEM	213536928
+MAP	SETUP	5707000
+MAP	SETUP_MEM	214837552
+MAP	CLEANUP	101000
+MAP	CLEANUP_MEM	212593336
+MAP	TOTAL_RUN	33049326000
+MAP	READ	4948101000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	7208388
+MAP	VALUE_BYTE_COUNT	103252346
+MAP	MAP	24790067000
+MAP	WRITE	11813197000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	5202969000
+MAP	SERIALIZE_OUTPUT	3020989000
+MAP	MAP_MEM	212593336
+SPILL	SORT_AND_SPILL	49909777000
+SPILL	QUICK_SORT	2284687000
+SPILL	SORT_COUNT	800932
+SPILL	COMBINE	0
+SPILL	WRITE	47625090000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	115403504
+SPILL	COMPRESS_BYTE_COUNT	35877393
+MERGE	TOTAL_MERGE	1771000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	83446980000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.1	0
+MAP	STARTUP_MEM	213532608
+MAP	SETUP	3685000
+MAP	SETUP_MEM	214824192
+MAP	CLEANUP	97000
+MAP	CLEANUP_MEM	231098632
+MAP	TOTAL_RUN	19129303000
+MAP	READ	2946603000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	7082334
+MAP	VALUE_BYTE_COUNT	100653919
+MAP	MAP	13233063000
+MAP	WRITE	4202334000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	702663000
+MAP	SERIALIZE_OUTPUT	1755485000
+MAP	MAP_MEM	231098632
+SPILL	SORT_AND_SPILL	29870322000
+SPILL	QUICK_SORT	2593997000
+SPILL	SORT_COUNT	786926
+SPILL	COMBINE	0
+SPILL	WRITE	27276325000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	111759759
+SPILL	COMPRESS_BYTE_COUNT	35202244
+MERGE	TOTAL_MERGE	1674000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	49730574000
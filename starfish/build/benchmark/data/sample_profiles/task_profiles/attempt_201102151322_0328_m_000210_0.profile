@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/orders/orders.tbl.19	0
+MAP	STARTUP_MEM	213521200
+MAP	SETUP	3553000
+MAP	SETUP_MEM	214801376
+MAP	CLEANUP	93000
+MAP	CLEANUP_MEM	241854760
+MAP	TOTAL_RUN	12789341000
+MAP	READ	3355625000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	3205152
+MAP	VALUE_BYTE_COUNT	41418553
+MAP	MAP	6595725000
+MAP	WRITE	2689253000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	354581000
+MAP	SERIALIZE_OUTPUT	804985000
+MAP	MAP_MEM	241854760
+SPILL	SORT_AND_SPILL	9283523000
+SPILL	QUICK_SORT	589159000
+SPILL	SORT_COUNT	356128
+SPILL	COMBINE	0
+SPILL	WRITE	8694364000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	47001727
+SPILL	COMPRESS_BYTE_COUNT	14530141
+MERGE	TOTAL_MERGE	1648000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	22845325000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/orders/orders.tbl.21	0
+MAP	STARTUP_MEM	213553600
+MAP	SETUP	14305000
+MAP	SETUP_MEM	214880680
+MAP	CLEANUP	92000
+MAP	CLEANUP_MEM	240482224
+MAP	TOTAL_RUN	11547091000
+MAP	READ	1904930000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	3203919
+MAP	VALUE_BYTE_COUNT	41396278
+MAP	MAP	7801937000
+MAP	WRITE	3499732000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	466407000
+MAP	SERIALIZE_OUTPUT	821414000
+MAP	MAP_MEM	241044384
+SPILL	SORT_AND_SPILL	14830645727
+SPILL	QUICK_SORT	728664000
+SPILL	SORT_COUNT	355991
+SPILL	COMBINE	0
+SPILL	WRITE	14101981727
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	46976639
+SPILL	COMPRESS_BYTE_COUNT	14524861
+MERGE	TOTAL_MERGE	1800000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	27147293727
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/orders/orders.tbl.20	0
+MAP	STARTUP_MEM	213551144
+MAP	SETUP	5418000
+MAP	SETUP_MEM	214867168
+MAP	CLEANUP	91000
+MAP	CLEANUP_MEM	242501608
+MAP	TOTAL_RUN	20167365000
+MAP	READ	3384511000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	3202695
+MAP	VALUE_BYTE_COUNT	41392628
+MAP	MAP	13039238000
+MAP	WRITE	5317359000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	694998000
+MAP	SERIALIZE_OUTPUT	1439221000
+MAP	MAP_MEM	242501608
+SPILL	SORT_AND_SPILL	20288051000
+SPILL	QUICK_SORT	1304173000
+SPILL	SORT_COUNT	355855
+SPILL	COMBINE	0
+SPILL	WRITE	18983878000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	46971415
+SPILL	COMPRESS_BYTE_COUNT	14521905
+MERGE	TOTAL_MERGE	1696000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	41815222000
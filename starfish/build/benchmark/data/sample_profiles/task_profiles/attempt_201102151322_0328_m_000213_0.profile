@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/orders/orders.tbl.27	0
+MAP	STARTUP_MEM	213532384
+MAP	SETUP	11538000
+MAP	SETUP_MEM	214819608
+MAP	CLEANUP	93000
+MAP	CLEANUP_MEM	241202160
+MAP	TOTAL_RUN	10687594000
+MAP	READ	1201245000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	3203712
+MAP	VALUE_BYTE_COUNT	41388940
+MAP	MAP	8225990000
+MAP	WRITE	2722689000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	311034000
+MAP	SERIALIZE_OUTPUT	1554737000
+MAP	MAP_MEM	241202160
+SPILL	SORT_AND_SPILL	21454724000
+SPILL	QUICK_SORT	7774590000
+SPILL	SORT_COUNT	355968
+SPILL	COMBINE	0
+SPILL	WRITE	13680134000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	46968636
+SPILL	COMPRESS_BYTE_COUNT	14521056
+MERGE	TOTAL_MERGE	1607000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	35397601000
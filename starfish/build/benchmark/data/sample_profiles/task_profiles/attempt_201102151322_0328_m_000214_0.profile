@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/orders/orders.tbl.25	0
+MAP	STARTUP_MEM	213536864
+MAP	SETUP	5975000
+MAP	SETUP_MEM	214837400
+MAP	CLEANUP	98000
+MAP	CLEANUP_MEM	241913256
+MAP	TOTAL_RUN	15774495000
+MAP	READ	3540670000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	3202542
+MAP	VALUE_BYTE_COUNT	41386242
+MAP	MAP	9953387000
+MAP	WRITE	4443646000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	863561000
+MAP	SERIALIZE_OUTPUT	1041091000
+MAP	MAP_MEM	242475416
+SPILL	SORT_AND_SPILL	9371032000
+SPILL	QUICK_SORT	573317000
+SPILL	SORT_COUNT	355838
+SPILL	COMBINE	0
+SPILL	WRITE	8797715000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	46964765
+SPILL	COMPRESS_BYTE_COUNT	14520563
+MERGE	TOTAL_MERGE	1986000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	25909466000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/orders/orders.tbl.18	0
+MAP	STARTUP_MEM	215103128
+MAP	SETUP	25425000
+MAP	SETUP_MEM	216424832
+MAP	CLEANUP	92000
+MAP	CLEANUP_MEM	239655848
+MAP	TOTAL_RUN	8773143000
+MAP	READ	1729330000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	3201246
+MAP	VALUE_BYTE_COUNT	41383938
+MAP	MAP	5868549000
+MAP	WRITE	1952297000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	307357000
+MAP	SERIALIZE_OUTPUT	534848000
+MAP	MAP_MEM	239655848
+SPILL	SORT_AND_SPILL	11210837000
+SPILL	QUICK_SORT	1052351000
+SPILL	SORT_COUNT	355694
+SPILL	COMBINE	0
+SPILL	WRITE	10158486000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	46960564
+SPILL	COMPRESS_BYTE_COUNT	14517620
+MERGE	TOTAL_MERGE	1603000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	24778000000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/orders/orders.tbl.24	0
+MAP	STARTUP_MEM	213543816
+MAP	SETUP	5455000
+MAP	SETUP_MEM	214861120
+MAP	CLEANUP	98000
+MAP	CLEANUP_MEM	243284544
+MAP	TOTAL_RUN	29410568000
+MAP	READ	5951582000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	3201138
+MAP	VALUE_BYTE_COUNT	41376873
+MAP	MAP	19477460000
+MAP	WRITE	12261772000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	5855001000
+MAP	SERIALIZE_OUTPUT	1431976000
+MAP	MAP_MEM	243284544
+SPILL	SORT_AND_SPILL	14904408000
+SPILL	QUICK_SORT	663538000
+SPILL	SORT_COUNT	355682
+SPILL	COMBINE	0
+SPILL	WRITE	14240870000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	46953392
+SPILL	COMPRESS_BYTE_COUNT	14518552
+MERGE	TOTAL_MERGE	1700000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	45631889000
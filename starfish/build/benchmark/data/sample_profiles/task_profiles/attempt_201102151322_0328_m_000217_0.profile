@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/orders/orders.tbl.29	0
+MAP	STARTUP_MEM	213506488
+MAP	SETUP	6282000
+MAP	SETUP_MEM	214786592
+MAP	CLEANUP	97000
+MAP	CLEANUP_MEM	241214536
+MAP	TOTAL_RUN	10256590000
+MAP	READ	1753481000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	3202974
+MAP	VALUE_BYTE_COUNT	41372584
+MAP	MAP	6638082000
+MAP	WRITE	1838295000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	325851000
+MAP	SERIALIZE_OUTPUT	735449000
+MAP	MAP_MEM	241214536
+SPILL	SORT_AND_SPILL	20975017000
+SPILL	QUICK_SORT	832584000
+SPILL	SORT_COUNT	355886
+SPILL	COMBINE	0
+SPILL	WRITE	20142433000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	46951068
+SPILL	COMPRESS_BYTE_COUNT	14518957
+MERGE	TOTAL_MERGE	1866000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	32580449000
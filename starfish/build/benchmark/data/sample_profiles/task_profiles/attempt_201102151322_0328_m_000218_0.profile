@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/orders/orders.tbl.23	0
+MAP	STARTUP_MEM	212689040
+MAP	SETUP	5684000
+MAP	SETUP_MEM	214007328
+MAP	CLEANUP	116000
+MAP	CLEANUP_MEM	240258968
+MAP	TOTAL_RUN	11607607000
+MAP	READ	2469010000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	3201111
+MAP	VALUE_BYTE_COUNT	41365972
+MAP	MAP	7331449000
+MAP	WRITE	2648558000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	453903000
+MAP	SERIALIZE_OUTPUT	1097724000
+MAP	MAP_MEM	240258968
+SPILL	SORT_AND_SPILL	19403517000
+SPILL	QUICK_SORT	675488000
+SPILL	SORT_COUNT	355679
+SPILL	COMBINE	0
+SPILL	WRITE	18728029000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	46941885
+SPILL	COMPRESS_BYTE_COUNT	14511718
+MERGE	TOTAL_MERGE	1707000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	32951220000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/orders/orders.tbl.30	0
+MAP	STARTUP_MEM	213542528
+MAP	SETUP	6119000
+MAP	SETUP_MEM	214858552
+MAP	CLEANUP	94000
+MAP	CLEANUP_MEM	240978296
+MAP	TOTAL_RUN	18238248000
+MAP	READ	2571539000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	3200904
+MAP	VALUE_BYTE_COUNT	41359195
+MAP	MAP	12777672000
+MAP	WRITE	4118355000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	508038000
+MAP	SERIALIZE_OUTPUT	1040009000
+MAP	MAP_MEM	240978296
+SPILL	SORT_AND_SPILL	9996695657
+SPILL	QUICK_SORT	664018000
+SPILL	SORT_COUNT	355656
+SPILL	COMBINE	0
+SPILL	WRITE	9332677657
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	46934637
+SPILL	COMPRESS_BYTE_COUNT	14511649
+MERGE	TOTAL_MERGE	1637000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	28830959657
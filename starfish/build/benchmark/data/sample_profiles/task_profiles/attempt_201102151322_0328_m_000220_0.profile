@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/orders/orders.tbl.22	0
+MAP	STARTUP_MEM	215198968
+MAP	SETUP	3500000
+MAP	SETUP_MEM	216499504
+MAP	CLEANUP	92000
+MAP	CLEANUP_MEM	241216840
+MAP	TOTAL_RUN	12729259000
+MAP	READ	2375688000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	3200067
+MAP	VALUE_BYTE_COUNT	41356870
+MAP	MAP	8471487000
+MAP	WRITE	4530275000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	305264000
+MAP	SERIALIZE_OUTPUT	705256000
+MAP	MAP_MEM	241216840
+SPILL	SORT_AND_SPILL	23398327000
+SPILL	QUICK_SORT	4217680000
+SPILL	SORT_COUNT	355563
+SPILL	COMBINE	0
+SPILL	WRITE	19180647000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	46930700
+SPILL	COMPRESS_BYTE_COUNT	14509465
+MERGE	TOTAL_MERGE	1652000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	40514965000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/orders/orders.tbl.28	0
+MAP	STARTUP_MEM	213526048
+MAP	SETUP	5275000
+MAP	SETUP_MEM	214806992
+MAP	CLEANUP	93000
+MAP	CLEANUP_MEM	240426064
+MAP	TOTAL_RUN	11437569000
+MAP	READ	2597911000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	3200265
+MAP	VALUE_BYTE_COUNT	41349503
+MAP	MAP	7230062000
+MAP	WRITE	2823955000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	310584000
+MAP	SERIALIZE_OUTPUT	735688000
+MAP	MAP_MEM	240426064
+SPILL	SORT_AND_SPILL	14650846000
+SPILL	QUICK_SORT	564296000
+SPILL	SORT_COUNT	355585
+SPILL	COMBINE	0
+SPILL	WRITE	14086550000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	46924137
+SPILL	COMPRESS_BYTE_COUNT	14508564
+MERGE	TOTAL_MERGE	1616000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	27626422000
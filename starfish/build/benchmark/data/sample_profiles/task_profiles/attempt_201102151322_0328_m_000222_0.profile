@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/orders/orders.tbl.26	0
+MAP	STARTUP_MEM	213535376
+MAP	SETUP	3508000
+MAP	SETUP_MEM	214834424
+MAP	CLEANUP	94000
+MAP	CLEANUP_MEM	239998560
+MAP	TOTAL_RUN	12914839000
+MAP	READ	2079554000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	3199554
+MAP	VALUE_BYTE_COUNT	41340633
+MAP	MAP	7226977000
+MAP	WRITE	2002455000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	358760000
+MAP	SERIALIZE_OUTPUT	791946000
+MAP	MAP_MEM	239998560
+SPILL	SORT_AND_SPILL	9844586000
+SPILL	QUICK_SORT	632203000
+SPILL	SORT_COUNT	355506
+SPILL	COMBINE	0
+SPILL	WRITE	9212383000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	46913748
+SPILL	COMPRESS_BYTE_COUNT	14505689
+MERGE	TOTAL_MERGE	1648000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	23578688000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/orders/orders.tbl.17	0
+MAP	STARTUP_MEM	212685240
+MAP	SETUP	23018000
+MAP	SETUP_MEM	214855344
+MAP	CLEANUP	98000
+MAP	CLEANUP_MEM	219109664
+MAP	TOTAL_RUN	12542052000
+MAP	READ	1892199000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	3126798
+MAP	VALUE_BYTE_COUNT	40395461
+MAP	MAP	8005479000
+MAP	WRITE	2102170000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	343134000
+MAP	SERIALIZE_OUTPUT	789302000
+MAP	MAP_MEM	219109664
+SPILL	SORT_AND_SPILL	11424658000
+SPILL	QUICK_SORT	621795000
+SPILL	SORT_COUNT	347422
+SPILL	COMBINE	0
+SPILL	WRITE	10802863000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	45841371
+SPILL	COMPRESS_BYTE_COUNT	14172156
+MERGE	TOTAL_MERGE	1945000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	25384255000
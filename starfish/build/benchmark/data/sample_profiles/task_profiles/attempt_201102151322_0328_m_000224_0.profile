@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/orders/orders.tbl.4	0
+MAP	STARTUP_MEM	212651048
+MAP	SETUP	3644000
+MAP	SETUP_MEM	213931320
+MAP	CLEANUP	92000
+MAP	CLEANUP_MEM	278680768
+MAP	TOTAL_RUN	8791765000
+MAP	READ	1341667000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	3115278
+MAP	VALUE_BYTE_COUNT	39905530
+MAP	MAP	6327835000
+MAP	WRITE	2191719000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	310733000
+MAP	SERIALIZE_OUTPUT	676943000
+MAP	MAP_MEM	212038496
+SPILL	SORT_AND_SPILL	11809403082
+SPILL	QUICK_SORT	511581000
+SPILL	SORT_COUNT	346142
+SPILL	COMBINE	0
+SPILL	WRITE	11297822082
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	44974552
+SPILL	COMPRESS_BYTE_COUNT	14032700
+MERGE	TOTAL_MERGE	1593000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	23338448082
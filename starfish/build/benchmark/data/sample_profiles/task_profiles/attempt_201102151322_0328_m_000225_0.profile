@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/orders/orders.tbl.11	0
+MAP	STARTUP_MEM	212678968
+MAP	SETUP	5578000
+MAP	SETUP_MEM	213977264
+MAP	CLEANUP	88000
+MAP	CLEANUP_MEM	211992584
+MAP	TOTAL_RUN	12145903000
+MAP	READ	2189422000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	3114936
+MAP	VALUE_BYTE_COUNT	39900717
+MAP	MAP	8838294000
+MAP	WRITE	3337275000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	302322000
+MAP	SERIALIZE_OUTPUT	698130000
+MAP	MAP_MEM	212554744
+SPILL	SORT_AND_SPILL	11961671000
+SPILL	QUICK_SORT	606623000
+SPILL	SORT_COUNT	346104
+SPILL	COMBINE	0
+SPILL	WRITE	11355048000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	44968967
+SPILL	COMPRESS_BYTE_COUNT	14030960
+MERGE	TOTAL_MERGE	1755000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	25357477000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/orders/orders.tbl.15	0
+MAP	STARTUP_MEM	213556816
+MAP	SETUP	5447000
+MAP	SETUP_MEM	214878520
+MAP	CLEANUP	84000
+MAP	CLEANUP_MEM	212579992
+MAP	TOTAL_RUN	19074559000
+MAP	READ	1448385000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	3113991
+MAP	VALUE_BYTE_COUNT	39899106
+MAP	MAP	16260124000
+MAP	WRITE	9925278000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	2350448000
+MAP	SERIALIZE_OUTPUT	2383183000
+MAP	MAP_MEM	212579992
+SPILL	SORT_AND_SPILL	17453458000
+SPILL	QUICK_SORT	846194000
+SPILL	SORT_COUNT	345999
+SPILL	COMBINE	0
+SPILL	WRITE	16607264000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	44965782
+SPILL	COMPRESS_BYTE_COUNT	14031376
+MERGE	TOTAL_MERGE	1778000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	37973143000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/orders/orders.tbl.13	0
+MAP	STARTUP_MEM	213534632
+MAP	SETUP	5544000
+MAP	SETUP_MEM	214832928
+MAP	CLEANUP	93000
+MAP	CLEANUP_MEM	210629824
+MAP	TOTAL_RUN	10363861000
+MAP	READ	2349626000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	3114081
+MAP	VALUE_BYTE_COUNT	39898468
+MAP	MAP	6098233000
+MAP	WRITE	1922836000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	330220000
+MAP	SERIALIZE_OUTPUT	793516000
+MAP	MAP_MEM	212400024
+SPILL	SORT_AND_SPILL	13135891000
+SPILL	QUICK_SORT	559316000
+SPILL	SORT_COUNT	346009
+SPILL	COMBINE	0
+SPILL	WRITE	12576575000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	44965758
+SPILL	COMPRESS_BYTE_COUNT	14030433
+MERGE	TOTAL_MERGE	1604000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	24092165000
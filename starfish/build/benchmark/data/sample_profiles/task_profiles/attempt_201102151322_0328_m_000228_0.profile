@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/orders/orders.tbl.12	0
+MAP	STARTUP_MEM	212667192
+MAP	SETUP	3581000
+MAP	SETUP_MEM	214809328
+MAP	CLEANUP	109000
+MAP	CLEANUP_MEM	212029936
+MAP	TOTAL_RUN	10400005852
+MAP	READ	2039314852
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	3114594
+MAP	VALUE_BYTE_COUNT	39896347
+MAP	MAP	6780312000
+MAP	WRITE	2417848000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	452709000
+MAP	SERIALIZE_OUTPUT	906761000
+MAP	MAP_MEM	212592096
+SPILL	SORT_AND_SPILL	9837430000
+SPILL	QUICK_SORT	638484000
+SPILL	SORT_COUNT	346066
+SPILL	COMBINE	0
+SPILL	WRITE	9198946000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	44963975
+SPILL	COMPRESS_BYTE_COUNT	14027874
+MERGE	TOTAL_MERGE	1662000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	23660998852
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/orders/orders.tbl.7	0
+MAP	STARTUP_MEM	213551160
+MAP	SETUP	5611000
+MAP	SETUP_MEM	214867184
+MAP	CLEANUP	98000
+MAP	CLEANUP_MEM	278486960
+MAP	TOTAL_RUN	10030441000
+MAP	READ	1672846000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	3113046
+MAP	VALUE_BYTE_COUNT	39891241
+MAP	MAP	6803143000
+MAP	WRITE	2414307000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	388694000
+MAP	SERIALIZE_OUTPUT	875166000
+MAP	MAP_MEM	278680752
+SPILL	SORT_AND_SPILL	9284401000
+SPILL	QUICK_SORT	611387000
+SPILL	SORT_COUNT	345894
+SPILL	COMBINE	0
+SPILL	WRITE	8673014000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	44956714
+SPILL	COMPRESS_BYTE_COUNT	14027777
+MERGE	TOTAL_MERGE	1679000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	19801543000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/orders/orders.tbl.8	0
+MAP	STARTUP_MEM	213540512
+MAP	SETUP	5708000
+MAP	SETUP_MEM	214835992
+MAP	CLEANUP	98000
+MAP	CLEANUP_MEM	278680776
+MAP	TOTAL_RUN	9986917000
+MAP	READ	1604099000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	3114117
+MAP	VALUE_BYTE_COUNT	39888864
+MAP	MAP	6730034000
+MAP	WRITE	2242984000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	382124000
+MAP	SERIALIZE_OUTPUT	770838000
+MAP	MAP_MEM	212397312
+SPILL	SORT_AND_SPILL	8615619000
+SPILL	QUICK_SORT	510339000
+SPILL	SORT_COUNT	346013
+SPILL	COMBINE	0
+SPILL	WRITE	8105280000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	44955667
+SPILL	COMPRESS_BYTE_COUNT	14026606
+MERGE	TOTAL_MERGE	1674000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	19350090000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/orders/orders.tbl.3	0
+MAP	STARTUP_MEM	213547128
+MAP	SETUP	5640000
+MAP	SETUP_MEM	214863184
+MAP	CLEANUP	97000
+MAP	CLEANUP_MEM	275934392
+MAP	TOTAL_RUN	7992759000
+MAP	READ	1080482000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	3113694
+MAP	VALUE_BYTE_COUNT	39879720
+MAP	MAP	5753610000
+MAP	WRITE	2030247000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	441976000
+MAP	SERIALIZE_OUTPUT	797090000
+MAP	MAP_MEM	275934392
+SPILL	SORT_AND_SPILL	8641455000
+SPILL	QUICK_SORT	681095000
+SPILL	SORT_COUNT	345966
+SPILL	COMBINE	0
+SPILL	WRITE	7960360000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	44945759
+SPILL	COMPRESS_BYTE_COUNT	14027168
+MERGE	TOTAL_MERGE	1598000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	17128801000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/orders/orders.tbl.14	0
+MAP	STARTUP_MEM	213523528
+MAP	SETUP	5692000
+MAP	SETUP_MEM	214810728
+MAP	CLEANUP	94000
+MAP	CLEANUP_MEM	276428760
+MAP	TOTAL_RUN	8892648000
+MAP	READ	1648465000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	3112839
+MAP	VALUE_BYTE_COUNT	39870529
+MAP	MAP	5998624000
+MAP	WRITE	2160155000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	462275000
+MAP	SERIALIZE_OUTPUT	741145000
+MAP	MAP_MEM	276428760
+SPILL	SORT_AND_SPILL	10002466000
+SPILL	QUICK_SORT	726574000
+SPILL	SORT_COUNT	345871
+SPILL	COMBINE	0
+SPILL	WRITE	9275892000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	44935350
+SPILL	COMPRESS_BYTE_COUNT	14019819
+MERGE	TOTAL_MERGE	1598000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	19360505000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/orders/orders.tbl.10	0
+MAP	STARTUP_MEM	213561680
+MAP	SETUP	3597000
+MAP	SETUP_MEM	214886952
+MAP	CLEANUP	92000
+MAP	CLEANUP_MEM	274554608
+MAP	TOTAL_RUN	7831261000
+MAP	READ	1125726000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	3110697
+MAP	VALUE_BYTE_COUNT	39863013
+MAP	MAP	5440000000
+MAP	WRITE	1862457000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	296840000
+MAP	SERIALIZE_OUTPUT	716180000
+MAP	MAP_MEM	274554608
+SPILL	SORT_AND_SPILL	8630181000
+SPILL	QUICK_SORT	680989000
+SPILL	SORT_COUNT	345633
+SPILL	COMBINE	0
+SPILL	WRITE	7949192000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	44924588
+SPILL	COMPRESS_BYTE_COUNT	14016921
+MERGE	TOTAL_MERGE	1511000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	16990339000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/orders/orders.tbl.16	0
+MAP	STARTUP_MEM	213523400
+MAP	SETUP	5603000
+MAP	SETUP_MEM	214810456
+MAP	CLEANUP	92000
+MAP	CLEANUP_MEM	210629800
+MAP	TOTAL_RUN	10777254000
+MAP	READ	1579815000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	3112515
+MAP	VALUE_BYTE_COUNT	39862302
+MAP	MAP	7720349000
+MAP	WRITE	2703060000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	341682000
+MAP	SERIALIZE_OUTPUT	813011000
+MAP	MAP_MEM	212397528
+SPILL	SORT_AND_SPILL	12596517000
+SPILL	QUICK_SORT	554720000
+SPILL	SORT_COUNT	345835
+SPILL	COMBINE	0
+SPILL	WRITE	12041797000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	44925812
+SPILL	COMPRESS_BYTE_COUNT	14019760
+MERGE	TOTAL_MERGE	1609000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	23941325000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/orders/orders.tbl.9	0
+MAP	STARTUP_MEM	213540240
+MAP	SETUP	13644000
+MAP	SETUP_MEM	214854072
+MAP	CLEANUP	94000
+MAP	CLEANUP_MEM	278098504
+MAP	TOTAL_RUN	9135782000
+MAP	READ	1258786000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	3112218
+MAP	VALUE_BYTE_COUNT	39859269
+MAP	MAP	6283741000
+MAP	WRITE	1792689000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	315504000
+MAP	SERIALIZE_OUTPUT	724092000
+MAP	MAP_MEM	278660664
+SPILL	SORT_AND_SPILL	13642428000
+SPILL	QUICK_SORT	527427000
+SPILL	SORT_COUNT	345802
+SPILL	COMBINE	0
+SPILL	WRITE	13115001000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	44923281
+SPILL	COMPRESS_BYTE_COUNT	14018909
+MERGE	TOTAL_MERGE	1453000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	24337925000
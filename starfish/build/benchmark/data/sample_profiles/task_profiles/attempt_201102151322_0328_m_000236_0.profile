@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/orders/orders.tbl.5	0
+MAP	STARTUP_MEM	213545360
+MAP	SETUP	11045000
+MAP	SETUP_MEM	214864344
+MAP	CLEANUP	98000
+MAP	CLEANUP_MEM	278428432
+MAP	TOTAL_RUN	10548213000
+MAP	READ	1784901000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	3110436
+MAP	VALUE_BYTE_COUNT	39838319
+MAP	MAP	7088360000
+MAP	WRITE	2301471000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	428375000
+MAP	SERIALIZE_OUTPUT	843785000
+MAP	MAP_MEM	278428432
+SPILL	SORT_AND_SPILL	18674397445
+SPILL	QUICK_SORT	1297399000
+SPILL	SORT_COUNT	345604
+SPILL	COMBINE	0
+SPILL	WRITE	17376998445
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	44898607
+SPILL	COMPRESS_BYTE_COUNT	14009332
+MERGE	TOTAL_MERGE	1524000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	31680282445
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/orders/orders.tbl.6	0
+MAP	STARTUP_MEM	213548208
+MAP	SETUP	5414000
+MAP	SETUP_MEM	214861272
+MAP	CLEANUP	98000
+MAP	CLEANUP_MEM	278653920
+MAP	TOTAL_RUN	12479979445
+MAP	READ	1744698000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	3109464
+MAP	VALUE_BYTE_COUNT	39836104
+MAP	MAP	8552199000
+MAP	WRITE	3623784000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	466715000
+MAP	SERIALIZE_OUTPUT	1423072000
+MAP	MAP_MEM	278653920
+SPILL	SORT_AND_SPILL	15287769000
+SPILL	QUICK_SORT	589493000
+SPILL	SORT_COUNT	345496
+SPILL	COMBINE	0
+SPILL	WRITE	14698276000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	44895556
+SPILL	COMPRESS_BYTE_COUNT	14009986
+MERGE	TOTAL_MERGE	1529000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	28344590445
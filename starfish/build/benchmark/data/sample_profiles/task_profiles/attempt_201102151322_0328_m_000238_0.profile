@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/orders/orders.tbl.2	0
+MAP	STARTUP_MEM	212667920
+MAP	SETUP	3377000
+MAP	SETUP_MEM	213955152
+MAP	CLEANUP	93000
+MAP	CLEANUP_MEM	253178200
+MAP	TOTAL_RUN	8156320000
+MAP	READ	1184918000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	3035583
+MAP	VALUE_BYTE_COUNT	38883661
+MAP	MAP	5748316000
+MAP	WRITE	2039577000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	320627000
+MAP	SERIALIZE_OUTPUT	843678000
+MAP	MAP_MEM	253178200
+SPILL	SORT_AND_SPILL	8334789000
+SPILL	QUICK_SORT	520632000
+SPILL	SORT_COUNT	337287
+SPILL	COMBINE	0
+SPILL	WRITE	7814157000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	43822869
+SPILL	COMPRESS_BYTE_COUNT	13676281
+MERGE	TOTAL_MERGE	1608000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	16924590000
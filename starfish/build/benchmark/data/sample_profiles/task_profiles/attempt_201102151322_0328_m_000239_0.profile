@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/orders/orders.tbl.1	0
+MAP	STARTUP_MEM	212693328
+MAP	SETUP	26162000
+MAP	SETUP_MEM	214862800
+MAP	CLEANUP	92000
+MAP	CLEANUP_MEM	242374416
+MAP	TOTAL_RUN	8596583000
+MAP	READ	1080176000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	3004101
+MAP	VALUE_BYTE_COUNT	38140307
+MAP	MAP	6291837000
+MAP	WRITE	1922400000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	287444000
+MAP	SERIALIZE_OUTPUT	846210000
+MAP	MAP_MEM	242374416
+SPILL	SORT_AND_SPILL	21166040000
+SPILL	QUICK_SORT	4074897000
+SPILL	SORT_COUNT	333789
+SPILL	COMBINE	0
+SPILL	WRITE	17091143000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	42682953
+SPILL	COMPRESS_BYTE_COUNT	13472974
+MERGE	TOTAL_MERGE	1639000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	32426610000
@@ -0,0 +1,989 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5503628
+SHUFFLE	COMPRESS_BYTE_COUNT	1710431
+SHUFFLE	COPY_MAP_DATA	1605032000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5445612
+SHUFFLE	COMPRESS_BYTE_COUNT	1712851
+SHUFFLE	COPY_MAP_DATA	229711000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5581940
+SHUFFLE	COMPRESS_BYTE_COUNT	1734329
+SHUFFLE	COPY_MAP_DATA	144246000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5487672
+SHUFFLE	COMPRESS_BYTE_COUNT	1727243
+SHUFFLE	COPY_MAP_DATA	110210000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5574332
+SHUFFLE	COMPRESS_BYTE_COUNT	1732352
+SHUFFLE	COPY_MAP_DATA	189776000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5559202
+SHUFFLE	COMPRESS_BYTE_COUNT	1727787
+SHUFFLE	COPY_MAP_DATA	115641000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5487285
+SHUFFLE	COMPRESS_BYTE_COUNT	1705829
+SHUFFLE	COPY_MAP_DATA	110312000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5520330
+SHUFFLE	COMPRESS_BYTE_COUNT	1714841
+SHUFFLE	COPY_MAP_DATA	87611000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5520476
+SHUFFLE	COMPRESS_BYTE_COUNT	1715957
+SHUFFLE	COPY_MAP_DATA	347878000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5560251
+SHUFFLE	COMPRESS_BYTE_COUNT	1728311
+SHUFFLE	COPY_MAP_DATA	120350000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5517179
+SHUFFLE	COMPRESS_BYTE_COUNT	1713665
+SHUFFLE	COPY_MAP_DATA	93252000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5501028
+SHUFFLE	COMPRESS_BYTE_COUNT	1710593
+SHUFFLE	COPY_MAP_DATA	98059000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5541038
+SHUFFLE	COMPRESS_BYTE_COUNT	1721845
+SHUFFLE	COPY_MAP_DATA	148601000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5494078
+SHUFFLE	COMPRESS_BYTE_COUNT	1707941
+SHUFFLE	COPY_MAP_DATA	169853000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5559807
+SHUFFLE	COMPRESS_BYTE_COUNT	1727525
+SHUFFLE	COPY_MAP_DATA	164626000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5481957
+SHUFFLE	COMPRESS_BYTE_COUNT	1725927
+SHUFFLE	COPY_MAP_DATA	114429000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5550914
+SHUFFLE	COMPRESS_BYTE_COUNT	1725626
+SHUFFLE	COPY_MAP_DATA	87194000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5480470
+SHUFFLE	COMPRESS_BYTE_COUNT	1703165
+SHUFFLE	COPY_MAP_DATA	111316000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5459512
+SHUFFLE	COMPRESS_BYTE_COUNT	1719293
+SHUFFLE	COPY_MAP_DATA	1657804000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5442013
+SHUFFLE	COMPRESS_BYTE_COUNT	1691817
+SHUFFLE	COPY_MAP_DATA	86313000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5513765
+SHUFFLE	COMPRESS_BYTE_COUNT	1714357
+SHUFFLE	COPY_MAP_DATA	121178000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5472827
+SHUFFLE	COMPRESS_BYTE_COUNT	1701016
+SHUFFLE	COPY_MAP_DATA	119726000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5506653
+SHUFFLE	COMPRESS_BYTE_COUNT	1711817
+SHUFFLE	COPY_MAP_DATA	474722000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5476367
+SHUFFLE	COMPRESS_BYTE_COUNT	1702397
+SHUFFLE	COPY_MAP_DATA	104952000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5490417
+SHUFFLE	COMPRESS_BYTE_COUNT	1706117
+SHUFFLE	COPY_MAP_DATA	182133000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5503092
+SHUFFLE	COMPRESS_BYTE_COUNT	1710588
+SHUFFLE	COPY_MAP_DATA	194374000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5510612
+SHUFFLE	COMPRESS_BYTE_COUNT	1711687
+SHUFFLE	COPY_MAP_DATA	3162788000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5536561
+SHUFFLE	COMPRESS_BYTE_COUNT	1720262
+SHUFFLE	COPY_MAP_DATA	3726584000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5595193
+SHUFFLE	COMPRESS_BYTE_COUNT	1717705
+SHUFFLE	COPY_MAP_DATA	453194000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5395958
+SHUFFLE	COMPRESS_BYTE_COUNT	1726436
+SHUFFLE	COPY_MAP_DATA	2388215000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5533797
+SHUFFLE	COMPRESS_BYTE_COUNT	1719834
+SHUFFLE	COPY_MAP_DATA	162091000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5518702
+SHUFFLE	COMPRESS_BYTE_COUNT	1693728
+SHUFFLE	COPY_MAP_DATA	139768000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5536037
+SHUFFLE	COMPRESS_BYTE_COUNT	1720779
+SHUFFLE	COPY_MAP_DATA	188808000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5522402
+SHUFFLE	COMPRESS_BYTE_COUNT	1696856
+SHUFFLE	COPY_MAP_DATA	82767000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5500309
+SHUFFLE	COMPRESS_BYTE_COUNT	1689062
+SHUFFLE	COPY_MAP_DATA	103140000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5507520
+SHUFFLE	COMPRESS_BYTE_COUNT	1712878
+SHUFFLE	COPY_MAP_DATA	246260000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5492055
+SHUFFLE	COMPRESS_BYTE_COUNT	1706486
+SHUFFLE	COPY_MAP_DATA	796886000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5535813
+SHUFFLE	COMPRESS_BYTE_COUNT	1700486
+SHUFFLE	COPY_MAP_DATA	218618000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5495505
+SHUFFLE	COMPRESS_BYTE_COUNT	1708476
+SHUFFLE	COPY_MAP_DATA	84279000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5506592
+SHUFFLE	COMPRESS_BYTE_COUNT	1691852
+SHUFFLE	COPY_MAP_DATA	432768000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5545763
+SHUFFLE	COMPRESS_BYTE_COUNT	1702862
+SHUFFLE	COPY_MAP_DATA	607432000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5554390
+SHUFFLE	COMPRESS_BYTE_COUNT	1725376
+SHUFFLE	COPY_MAP_DATA	4641508000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5490770
+SHUFFLE	COMPRESS_BYTE_COUNT	1706249
+SHUFFLE	COPY_MAP_DATA	576731000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5560127
+SHUFFLE	COMPRESS_BYTE_COUNT	1727279
+SHUFFLE	COPY_MAP_DATA	83152000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5490804
+SHUFFLE	COMPRESS_BYTE_COUNT	1707312
+SHUFFLE	COPY_MAP_DATA	92048000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5411598
+SHUFFLE	COMPRESS_BYTE_COUNT	1682304
+SHUFFLE	COPY_MAP_DATA	2017444000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5498217
+SHUFFLE	COMPRESS_BYTE_COUNT	1709392
+SHUFFLE	COPY_MAP_DATA	109783000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5554306
+SHUFFLE	COMPRESS_BYTE_COUNT	1704407
+SHUFFLE	COPY_MAP_DATA	382778000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5517991
+SHUFFLE	COMPRESS_BYTE_COUNT	1736338
+SHUFFLE	COPY_MAP_DATA	82811000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5592227
+SHUFFLE	COMPRESS_BYTE_COUNT	1715553
+SHUFFLE	COPY_MAP_DATA	890614000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5476928
+SHUFFLE	COMPRESS_BYTE_COUNT	1703435
+SHUFFLE	COPY_MAP_DATA	138700000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5512619
+SHUFFLE	COMPRESS_BYTE_COUNT	1713593
+SHUFFLE	COPY_MAP_DATA	596360000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5500216
+SHUFFLE	COMPRESS_BYTE_COUNT	1709071
+SHUFFLE	COPY_MAP_DATA	220926000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5536656
+SHUFFLE	COMPRESS_BYTE_COUNT	1699496
+SHUFFLE	COPY_MAP_DATA	198003000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5571838
+SHUFFLE	COMPRESS_BYTE_COUNT	1709833
+SHUFFLE	COPY_MAP_DATA	1852020000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5555943
+SHUFFLE	COMPRESS_BYTE_COUNT	1723438
+SHUFFLE	COPY_MAP_DATA	2890741000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5475283
+SHUFFLE	COMPRESS_BYTE_COUNT	1701917
+SHUFFLE	COPY_MAP_DATA	1028119000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5532487
+SHUFFLE	COMPRESS_BYTE_COUNT	1699291
+SHUFFLE	COPY_MAP_DATA	524063000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5528757
+SHUFFLE	COMPRESS_BYTE_COUNT	1696925
+SHUFFLE	COPY_MAP_DATA	2202585000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5590765
+SHUFFLE	COMPRESS_BYTE_COUNT	1715733
+SHUFFLE	COPY_MAP_DATA	720109000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5567647
+SHUFFLE	COMPRESS_BYTE_COUNT	1708671
+SHUFFLE	COPY_MAP_DATA	133830000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5521405
+SHUFFLE	COMPRESS_BYTE_COUNT	1695011
+SHUFFLE	COPY_MAP_DATA	1020559000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5527037
+SHUFFLE	COMPRESS_BYTE_COUNT	1738901
+SHUFFLE	COPY_MAP_DATA	97375000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5572065
+SHUFFLE	COMPRESS_BYTE_COUNT	1710979
+SHUFFLE	COPY_MAP_DATA	1569626000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5489279
+SHUFFLE	COMPRESS_BYTE_COUNT	1728060
+SHUFFLE	COPY_MAP_DATA	135517000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5546301
+SHUFFLE	COMPRESS_BYTE_COUNT	1702885
+SHUFFLE	COPY_MAP_DATA	118663000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5517061
+SHUFFLE	COMPRESS_BYTE_COUNT	1693102
+SHUFFLE	COPY_MAP_DATA	85627000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5597728
+SHUFFLE	COMPRESS_BYTE_COUNT	1718247
+SHUFFLE	COPY_MAP_DATA	106956000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5593168
+SHUFFLE	COMPRESS_BYTE_COUNT	1717731
+SHUFFLE	COPY_MAP_DATA	127161000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5575666
+SHUFFLE	COMPRESS_BYTE_COUNT	1711695
+SHUFFLE	COPY_MAP_DATA	85558000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5553121
+SHUFFLE	COMPRESS_BYTE_COUNT	1705736
+SHUFFLE	COPY_MAP_DATA	92613000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5538840
+SHUFFLE	COMPRESS_BYTE_COUNT	1699781
+SHUFFLE	COPY_MAP_DATA	339218000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5526513
+SHUFFLE	COMPRESS_BYTE_COUNT	1697154
+SHUFFLE	COPY_MAP_DATA	219836000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5599160
+SHUFFLE	COMPRESS_BYTE_COUNT	1717015
+SHUFFLE	COPY_MAP_DATA	150611000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5533879
+SHUFFLE	COMPRESS_BYTE_COUNT	1697828
+SHUFFLE	COPY_MAP_DATA	787080000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5540849
+SHUFFLE	COMPRESS_BYTE_COUNT	1699646
+SHUFFLE	COPY_MAP_DATA	1073876000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5445077
+SHUFFLE	COMPRESS_BYTE_COUNT	1711144
+SHUFFLE	COPY_MAP_DATA	4682392000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5504051
+SHUFFLE	COMPRESS_BYTE_COUNT	1689429
+SHUFFLE	COPY_MAP_DATA	81811000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5522265
+SHUFFLE	COMPRESS_BYTE_COUNT	1695452
+SHUFFLE	COPY_MAP_DATA	82075000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5541710
+SHUFFLE	COMPRESS_BYTE_COUNT	1701298
+SHUFFLE	COPY_MAP_DATA	3254805000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5520979
+SHUFFLE	COMPRESS_BYTE_COUNT	1694831
+SHUFFLE	COPY_MAP_DATA	99938000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5562323
+SHUFFLE	COMPRESS_BYTE_COUNT	1706616
+SHUFFLE	COPY_MAP_DATA	194758000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5477550
+SHUFFLE	COMPRESS_BYTE_COUNT	1681511
+SHUFFLE	COPY_MAP_DATA	480649000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5524182
+SHUFFLE	COMPRESS_BYTE_COUNT	1695272
+SHUFFLE	COPY_MAP_DATA	159683000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5580021
+SHUFFLE	COMPRESS_BYTE_COUNT	1713558
+SHUFFLE	COPY_MAP_DATA	6247449000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5528738
+SHUFFLE	COMPRESS_BYTE_COUNT	1698191
+SHUFFLE	COPY_MAP_DATA	119732000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5539469
+SHUFFLE	COMPRESS_BYTE_COUNT	1701720
+SHUFFLE	COPY_MAP_DATA	88715000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5638216
+SHUFFLE	COMPRESS_BYTE_COUNT	1730096
+SHUFFLE	COPY_MAP_DATA	89475000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5568858
+SHUFFLE	COMPRESS_BYTE_COUNT	1709779
+SHUFFLE	COPY_MAP_DATA	147247000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5553134
+SHUFFLE	COMPRESS_BYTE_COUNT	1705117
+SHUFFLE	COPY_MAP_DATA	110758000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5556057
+SHUFFLE	COMPRESS_BYTE_COUNT	1705464
+SHUFFLE	COPY_MAP_DATA	1142695000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5627383
+SHUFFLE	COMPRESS_BYTE_COUNT	1727770
+SHUFFLE	COPY_MAP_DATA	83507000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5597763
+SHUFFLE	COMPRESS_BYTE_COUNT	1718744
+SHUFFLE	COPY_MAP_DATA	2154927000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5602219
+SHUFFLE	COMPRESS_BYTE_COUNT	1718785
+SHUFFLE	COPY_MAP_DATA	130831000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5551274
+SHUFFLE	COMPRESS_BYTE_COUNT	1703320
+SHUFFLE	COPY_MAP_DATA	396540000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5541120
+SHUFFLE	COMPRESS_BYTE_COUNT	1699894
+SHUFFLE	COPY_MAP_DATA	84918000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5511694
+SHUFFLE	COMPRESS_BYTE_COUNT	1713226
+SHUFFLE	COPY_MAP_DATA	97761000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5490219
+SHUFFLE	COMPRESS_BYTE_COUNT	1707165
+SHUFFLE	COPY_MAP_DATA	115448000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5493153
+SHUFFLE	COMPRESS_BYTE_COUNT	1685849
+SHUFFLE	COPY_MAP_DATA	337886000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5545887
+SHUFFLE	COMPRESS_BYTE_COUNT	1701833
+SHUFFLE	COPY_MAP_DATA	873471000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5561550
+SHUFFLE	COMPRESS_BYTE_COUNT	1706938
+SHUFFLE	COPY_MAP_DATA	217240000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5539266
+SHUFFLE	COMPRESS_BYTE_COUNT	1721764
+SHUFFLE	COPY_MAP_DATA	87376000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5528651
+SHUFFLE	COMPRESS_BYTE_COUNT	1697419
+SHUFFLE	COPY_MAP_DATA	87660000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5565508
+SHUFFLE	COMPRESS_BYTE_COUNT	1708124
+SHUFFLE	COPY_MAP_DATA	3848962000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5511346
+SHUFFLE	COMPRESS_BYTE_COUNT	1691275
+SHUFFLE	COPY_MAP_DATA	378417000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5562863
+SHUFFLE	COMPRESS_BYTE_COUNT	1707498
+SHUFFLE	COPY_MAP_DATA	322013000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5481343
+SHUFFLE	COMPRESS_BYTE_COUNT	1703593
+SHUFFLE	COPY_MAP_DATA	301544000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5519616
+SHUFFLE	COMPRESS_BYTE_COUNT	1694081
+SHUFFLE	COPY_MAP_DATA	101245000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5545310
+SHUFFLE	COMPRESS_BYTE_COUNT	1701698
+SHUFFLE	COPY_MAP_DATA	8650940000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5538109
+SHUFFLE	COMPRESS_BYTE_COUNT	1699908
+SHUFFLE	COPY_MAP_DATA	661986000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5515091
+SHUFFLE	COMPRESS_BYTE_COUNT	1691690
+SHUFFLE	COPY_MAP_DATA	104046000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5520828
+SHUFFLE	COMPRESS_BYTE_COUNT	1695480
+SHUFFLE	COPY_MAP_DATA	91540000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5583650
+SHUFFLE	COMPRESS_BYTE_COUNT	1712573
+SHUFFLE	COPY_MAP_DATA	96306000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5635060
+SHUFFLE	COMPRESS_BYTE_COUNT	1729190
+SHUFFLE	COPY_MAP_DATA	694436000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5544876
+SHUFFLE	COMPRESS_BYTE_COUNT	1701529
+SHUFFLE	COPY_MAP_DATA	179000000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5533416
+SHUFFLE	COMPRESS_BYTE_COUNT	1699124
+SHUFFLE	COPY_MAP_DATA	636928000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5480628
+SHUFFLE	COMPRESS_BYTE_COUNT	1702434
+SHUFFLE	COPY_MAP_DATA	1850924000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5532961
+SHUFFLE	COMPRESS_BYTE_COUNT	1719006
+SHUFFLE	COPY_MAP_DATA	1020405000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5523931
+SHUFFLE	COMPRESS_BYTE_COUNT	1716804
+SHUFFLE	COPY_MAP_DATA	147262000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5515600
+SHUFFLE	COMPRESS_BYTE_COUNT	1714786
+SHUFFLE	COPY_MAP_DATA	341558000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5524948
+SHUFFLE	COMPRESS_BYTE_COUNT	1696379
+SHUFFLE	COPY_MAP_DATA	92883000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5486705
+SHUFFLE	COMPRESS_BYTE_COUNT	1705291
+SHUFFLE	COPY_MAP_DATA	3560521000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5481725
+SHUFFLE	COMPRESS_BYTE_COUNT	1702908
+SHUFFLE	COPY_MAP_DATA	82270000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5538766
+SHUFFLE	COMPRESS_BYTE_COUNT	1721245
+SHUFFLE	COPY_MAP_DATA	83024000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5518922
+SHUFFLE	COMPRESS_BYTE_COUNT	1715152
+SHUFFLE	COPY_MAP_DATA	1111235000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5501726
+SHUFFLE	COMPRESS_BYTE_COUNT	1710187
+SHUFFLE	COPY_MAP_DATA	96214000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5490266
+SHUFFLE	COMPRESS_BYTE_COUNT	1707197
+SHUFFLE	COPY_MAP_DATA	773893000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5509533
+SHUFFLE	COMPRESS_BYTE_COUNT	1711979
+SHUFFLE	COPY_MAP_DATA	1052074000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5453957
+SHUFFLE	COMPRESS_BYTE_COUNT	1695557
+SHUFFLE	COPY_MAP_DATA	168810000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5503957
+SHUFFLE	COMPRESS_BYTE_COUNT	1710995
+SHUFFLE	COPY_MAP_DATA	2820265000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5569760
+SHUFFLE	COMPRESS_BYTE_COUNT	1709050
+SHUFFLE	COPY_MAP_DATA	321424000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5560783
+SHUFFLE	COMPRESS_BYTE_COUNT	1729209
+SHUFFLE	COPY_MAP_DATA	113273000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5568829
+SHUFFLE	COMPRESS_BYTE_COUNT	1708929
+SHUFFLE	COPY_MAP_DATA	218634000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5516839
+SHUFFLE	COMPRESS_BYTE_COUNT	1714548
+SHUFFLE	COPY_MAP_DATA	363593000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5528965
+SHUFFLE	COMPRESS_BYTE_COUNT	1718429
+SHUFFLE	COPY_MAP_DATA	81670000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5506349
+SHUFFLE	COMPRESS_BYTE_COUNT	1710486
+SHUFFLE	COPY_MAP_DATA	91511000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5554748
+SHUFFLE	COMPRESS_BYTE_COUNT	1725263
+SHUFFLE	COPY_MAP_DATA	118932000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5526985
+SHUFFLE	COMPRESS_BYTE_COUNT	1717884
+SHUFFLE	COPY_MAP_DATA	94414000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5561293
+SHUFFLE	COMPRESS_BYTE_COUNT	1727456
+SHUFFLE	COPY_MAP_DATA	82570000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5523355
+SHUFFLE	COMPRESS_BYTE_COUNT	1716166
+SHUFFLE	COPY_MAP_DATA	125262000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5516683
+SHUFFLE	COMPRESS_BYTE_COUNT	1714035
+SHUFFLE	COPY_MAP_DATA	81488000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5498561
+SHUFFLE	COMPRESS_BYTE_COUNT	1709485
+SHUFFLE	COPY_MAP_DATA	297942000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5493469
+SHUFFLE	COMPRESS_BYTE_COUNT	1707245
+SHUFFLE	COPY_MAP_DATA	109207000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5533046
+SHUFFLE	COMPRESS_BYTE_COUNT	1719955
+SHUFFLE	COPY_MAP_DATA	103162000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5492429
+SHUFFLE	COMPRESS_BYTE_COUNT	1706521
+SHUFFLE	COPY_MAP_DATA	222867000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5524974
+SHUFFLE	COMPRESS_BYTE_COUNT	1717912
+SHUFFLE	COPY_MAP_DATA	86510000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5544879
+SHUFFLE	COMPRESS_BYTE_COUNT	1726741
+SHUFFLE	COPY_MAP_DATA	135241000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5488977
+SHUFFLE	COMPRESS_BYTE_COUNT	1705617
+SHUFFLE	COPY_MAP_DATA	86215000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5565297
+SHUFFLE	COMPRESS_BYTE_COUNT	1734161
+SHUFFLE	COPY_MAP_DATA	97459000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5558743
+SHUFFLE	COMPRESS_BYTE_COUNT	1729780
+SHUFFLE	COPY_MAP_DATA	81983000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5552944
+SHUFFLE	COMPRESS_BYTE_COUNT	1729438
+SHUFFLE	COPY_MAP_DATA	591200000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5553681
+SHUFFLE	COMPRESS_BYTE_COUNT	1726049
+SHUFFLE	COPY_MAP_DATA	87763000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5593142
+SHUFFLE	COMPRESS_BYTE_COUNT	1727251
+SHUFFLE	COPY_MAP_DATA	128912000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5543647
+SHUFFLE	COMPRESS_BYTE_COUNT	1727638
+SHUFFLE	COPY_MAP_DATA	103358000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5559049
+SHUFFLE	COMPRESS_BYTE_COUNT	1732242
+SHUFFLE	COPY_MAP_DATA	141654000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5595794
+SHUFFLE	COMPRESS_BYTE_COUNT	1726666
+SHUFFLE	COPY_MAP_DATA	1395777000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5590790
+SHUFFLE	COMPRESS_BYTE_COUNT	1725097
+SHUFFLE	COPY_MAP_DATA	2621314000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5556625
+SHUFFLE	COMPRESS_BYTE_COUNT	1731052
+SHUFFLE	COPY_MAP_DATA	769855000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5599558
+SHUFFLE	COMPRESS_BYTE_COUNT	1729273
+SHUFFLE	COPY_MAP_DATA	281624000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5580233
+SHUFFLE	COMPRESS_BYTE_COUNT	1734750
+SHUFFLE	COPY_MAP_DATA	372896000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5476754
+SHUFFLE	COMPRESS_BYTE_COUNT	1702456
+SHUFFLE	COPY_MAP_DATA	166049000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5592438
+SHUFFLE	COMPRESS_BYTE_COUNT	1726225
+SHUFFLE	COPY_MAP_DATA	4122797000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4722030
+SHUFFLE	COMPRESS_BYTE_COUNT	1448892
+SHUFFLE	COPY_MAP_DATA	1830922000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5555075
+SHUFFLE	COMPRESS_BYTE_COUNT	1730064
+SHUFFLE	COPY_MAP_DATA	101804000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4452254
+SHUFFLE	COMPRESS_BYTE_COUNT	1384370
+SHUFFLE	COPY_MAP_DATA	274815000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4736691
+SHUFFLE	COMPRESS_BYTE_COUNT	1453594
+SHUFFLE	COPY_MAP_DATA	74058000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4709075
+SHUFFLE	COMPRESS_BYTE_COUNT	1445838
+SHUFFLE	COPY_MAP_DATA	341734000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4450448
+SHUFFLE	COMPRESS_BYTE_COUNT	1383468
+SHUFFLE	COPY_MAP_DATA	447160000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5592014
+SHUFFLE	COMPRESS_BYTE_COUNT	1725584
+SHUFFLE	COPY_MAP_DATA	81203000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5570469
+SHUFFLE	COMPRESS_BYTE_COUNT	1734148
+SHUFFLE	COPY_MAP_DATA	322919000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5583059
+SHUFFLE	COMPRESS_BYTE_COUNT	1723694
+SHUFFLE	COPY_MAP_DATA	81102000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5602587
+SHUFFLE	COMPRESS_BYTE_COUNT	1728606
+SHUFFLE	COPY_MAP_DATA	102313000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5526207
+SHUFFLE	COMPRESS_BYTE_COUNT	1738538
+SHUFFLE	COPY_MAP_DATA	81822000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5603505
+SHUFFLE	COMPRESS_BYTE_COUNT	1729844
+SHUFFLE	COPY_MAP_DATA	353070000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4447844
+SHUFFLE	COMPRESS_BYTE_COUNT	1382828
+SHUFFLE	COPY_MAP_DATA	71135000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5560102
+SHUFFLE	COMPRESS_BYTE_COUNT	1733047
+SHUFFLE	COPY_MAP_DATA	96735000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5588402
+SHUFFLE	COMPRESS_BYTE_COUNT	1724922
+SHUFFLE	COPY_MAP_DATA	649885000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1734162
+SHUFFLE	COMPRESS_BYTE_COUNT	536795
+SHUFFLE	COPY_MAP_DATA	269412000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5498955
+SHUFFLE	COMPRESS_BYTE_COUNT	1744738
+SHUFFLE	COPY_MAP_DATA	86994000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4463305
+SHUFFLE	COMPRESS_BYTE_COUNT	1388274
+SHUFFLE	COPY_MAP_DATA	112136000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5586911
+SHUFFLE	COMPRESS_BYTE_COUNT	1724303
+SHUFFLE	COPY_MAP_DATA	192198000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5583065
+SHUFFLE	COMPRESS_BYTE_COUNT	1724033
+SHUFFLE	COPY_MAP_DATA	820951000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5540995
+SHUFFLE	COMPRESS_BYTE_COUNT	1725598
+SHUFFLE	COPY_MAP_DATA	118999000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5602558
+SHUFFLE	COMPRESS_BYTE_COUNT	1729660
+SHUFFLE	COPY_MAP_DATA	460195000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1743486
+SHUFFLE	COMPRESS_BYTE_COUNT	538998
+SHUFFLE	COPY_MAP_DATA	227359000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4745991
+SHUFFLE	COMPRESS_BYTE_COUNT	1457336
+SHUFFLE	COPY_MAP_DATA	1560948000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4469769
+SHUFFLE	COMPRESS_BYTE_COUNT	1389447
+SHUFFLE	COPY_MAP_DATA	81247000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4426733
+SHUFFLE	COMPRESS_BYTE_COUNT	1376078
+SHUFFLE	COPY_MAP_DATA	69639000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4424333
+SHUFFLE	COMPRESS_BYTE_COUNT	1375956
+SHUFFLE	COPY_MAP_DATA	78751000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4758834
+SHUFFLE	COMPRESS_BYTE_COUNT	1461944
+SHUFFLE	COPY_MAP_DATA	210264000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4730522
+SHUFFLE	COMPRESS_BYTE_COUNT	1451936
+SHUFFLE	COPY_MAP_DATA	74405000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5561979
+SHUFFLE	COMPRESS_BYTE_COUNT	1733341
+SHUFFLE	COPY_MAP_DATA	85583000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1740616
+SHUFFLE	COMPRESS_BYTE_COUNT	537926
+SHUFFLE	COPY_MAP_DATA	2643114000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5555609
+SHUFFLE	COMPRESS_BYTE_COUNT	1730226
+SHUFFLE	COPY_MAP_DATA	693108000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1661867
+SHUFFLE	COMPRESS_BYTE_COUNT	518721
+SHUFFLE	COPY_MAP_DATA	37947000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1745869
+SHUFFLE	COMPRESS_BYTE_COUNT	539747
+SHUFFLE	COPY_MAP_DATA	37171000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4792637
+SHUFFLE	COMPRESS_BYTE_COUNT	1470524
+SHUFFLE	COPY_MAP_DATA	104747000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5558148
+SHUFFLE	COMPRESS_BYTE_COUNT	1731838
+SHUFFLE	COPY_MAP_DATA	86789000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4431469
+SHUFFLE	COMPRESS_BYTE_COUNT	1377028
+SHUFFLE	COPY_MAP_DATA	349586000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4412883
+SHUFFLE	COMPRESS_BYTE_COUNT	1371602
+SHUFFLE	COPY_MAP_DATA	67373000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1668481
+SHUFFLE	COMPRESS_BYTE_COUNT	519721
+SHUFFLE	COPY_MAP_DATA	2680375000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1740744
+SHUFFLE	COMPRESS_BYTE_COUNT	538150
+SHUFFLE	COPY_MAP_DATA	27331000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1739768
+SHUFFLE	COMPRESS_BYTE_COUNT	537666
+SHUFFLE	COPY_MAP_DATA	27190000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4742380
+SHUFFLE	COMPRESS_BYTE_COUNT	1455535
+SHUFFLE	COPY_MAP_DATA	90229000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1741385
+SHUFFLE	COMPRESS_BYTE_COUNT	538048
+SHUFFLE	COPY_MAP_DATA	194963000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1735981
+SHUFFLE	COMPRESS_BYTE_COUNT	536125
+SHUFFLE	COPY_MAP_DATA	28573000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5541319
+SHUFFLE	COMPRESS_BYTE_COUNT	1727298
+SHUFFLE	COPY_MAP_DATA	85987000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1742681
+SHUFFLE	COMPRESS_BYTE_COUNT	538109
+SHUFFLE	COPY_MAP_DATA	271910000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4732849
+SHUFFLE	COMPRESS_BYTE_COUNT	1453223
+SHUFFLE	COPY_MAP_DATA	1055537000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4737599
+SHUFFLE	COMPRESS_BYTE_COUNT	1454527
+SHUFFLE	COPY_MAP_DATA	211669000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4734171
+SHUFFLE	COMPRESS_BYTE_COUNT	1453100
+SHUFFLE	COPY_MAP_DATA	186649000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4112430
+SHUFFLE	COMPRESS_BYTE_COUNT	1295932
+SHUFFLE	COPY_MAP_DATA	1154433000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4480697
+SHUFFLE	COMPRESS_BYTE_COUNT	1392177
+SHUFFLE	COPY_MAP_DATA	90915000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1744957
+SHUFFLE	COMPRESS_BYTE_COUNT	539845
+SHUFFLE	COPY_MAP_DATA	281501000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4697498
+SHUFFLE	COMPRESS_BYTE_COUNT	1442895
+SHUFFLE	COPY_MAP_DATA	196679000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1662567
+SHUFFLE	COMPRESS_BYTE_COUNT	519072
+SHUFFLE	COPY_MAP_DATA	132426000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4455826
+SHUFFLE	COMPRESS_BYTE_COUNT	1384798
+SHUFFLE	COPY_MAP_DATA	131086000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1667260
+SHUFFLE	COMPRESS_BYTE_COUNT	519906
+SHUFFLE	COPY_MAP_DATA	28019000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1667823
+SHUFFLE	COMPRESS_BYTE_COUNT	520477
+SHUFFLE	COPY_MAP_DATA	25974000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1737702
+SHUFFLE	COMPRESS_BYTE_COUNT	536672
+SHUFFLE	COPY_MAP_DATA	30037000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1737079
+SHUFFLE	COMPRESS_BYTE_COUNT	537257
+SHUFFLE	COPY_MAP_DATA	44898000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1664160
+SHUFFLE	COMPRESS_BYTE_COUNT	519119
+SHUFFLE	COPY_MAP_DATA	28574000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1742372
+SHUFFLE	COMPRESS_BYTE_COUNT	538714
+SHUFFLE	COPY_MAP_DATA	30570000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4329458
+SHUFFLE	COMPRESS_BYTE_COUNT	1345507
+SHUFFLE	COPY_MAP_DATA	73256000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1660767
+SHUFFLE	COMPRESS_BYTE_COUNT	518840
+SHUFFLE	COPY_MAP_DATA	66786000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1660855
+SHUFFLE	COMPRESS_BYTE_COUNT	518665
+SHUFFLE	COPY_MAP_DATA	29171000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1663300
+SHUFFLE	COMPRESS_BYTE_COUNT	519135
+SHUFFLE	COPY_MAP_DATA	48443000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1664229
+SHUFFLE	COMPRESS_BYTE_COUNT	519050
+SHUFFLE	COPY_MAP_DATA	28979000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4454856
+SHUFFLE	COMPRESS_BYTE_COUNT	1384132
+SHUFFLE	COPY_MAP_DATA	407793000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1691665
+SHUFFLE	COMPRESS_BYTE_COUNT	523277
+SHUFFLE	COPY_MAP_DATA	28658000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1619675
+SHUFFLE	COMPRESS_BYTE_COUNT	505540
+SHUFFLE	COPY_MAP_DATA	26184000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4681483
+SHUFFLE	COMPRESS_BYTE_COUNT	1436543
+SHUFFLE	COPY_MAP_DATA	71991000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1665339
+SHUFFLE	COMPRESS_BYTE_COUNT	519365
+SHUFFLE	COPY_MAP_DATA	28443000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1667223
+SHUFFLE	COMPRESS_BYTE_COUNT	520654
+SHUFFLE	COPY_MAP_DATA	343644000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1656989
+SHUFFLE	COMPRESS_BYTE_COUNT	517093
+SHUFFLE	COPY_MAP_DATA	27745000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1662152
+SHUFFLE	COMPRESS_BYTE_COUNT	518495
+SHUFFLE	COPY_MAP_DATA	26291000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4413907
+SHUFFLE	COMPRESS_BYTE_COUNT	1371519
+SHUFFLE	COPY_MAP_DATA	70047000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1580569
+SHUFFLE	COMPRESS_BYTE_COUNT	499339
+SHUFFLE	COPY_MAP_DATA	36596000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4570085
+SHUFFLE	COMPRESS_BYTE_COUNT	1404540
+SHUFFLE	COPY_MAP_DATA	164991000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4421951
+SHUFFLE	COMPRESS_BYTE_COUNT	1375161
+SHUFFLE	COPY_MAP_DATA	757552000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	467261101421
+MERGE	READ_WRITE	450261797421
+MERGE	READ_WRITE_COUNT	8
+MERGE	COMBINE	0
+MERGE	WRITE	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	10578952000
+SORT	READ_WRITE	9847192000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	241503416
+REDUCE	SETUP	371000
+REDUCE	SETUP_MEM	241503416
+REDUCE	CLEANUP	43000
+REDUCE	CLEANUP_MEM	252628400
+REDUCE	TOTAL_RUN	511341564294
+REDUCE	READ	17305009000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	484475412294
+REDUCE	WRITE	281870108294
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	55880872
+REDUCE	VALUE_BYTE_COUNT	1647671659
+REDUCE	REDUCE_MEM	252630448
+REDUCE	WRITE	4762812000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	1224336584797
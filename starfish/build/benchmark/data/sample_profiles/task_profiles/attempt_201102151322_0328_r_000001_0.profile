@@ -0,0 +1,989 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5509300
+SHUFFLE	COMPRESS_BYTE_COUNT	1712675
+SHUFFLE	COPY_MAP_DATA	1136457000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5494910
+SHUFFLE	COMPRESS_BYTE_COUNT	1707401
+SHUFFLE	COPY_MAP_DATA	148960000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5496172
+SHUFFLE	COMPRESS_BYTE_COUNT	1731642
+SHUFFLE	COPY_MAP_DATA	124165000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5506192
+SHUFFLE	COMPRESS_BYTE_COUNT	1711508
+SHUFFLE	COPY_MAP_DATA	167623000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5505117
+SHUFFLE	COMPRESS_BYTE_COUNT	1711292
+SHUFFLE	COPY_MAP_DATA	159170000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5536825
+SHUFFLE	COMPRESS_BYTE_COUNT	1720111
+SHUFFLE	COPY_MAP_DATA	272048000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5585346
+SHUFFLE	COMPRESS_BYTE_COUNT	1736628
+SHUFFLE	COPY_MAP_DATA	127057000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5496519
+SHUFFLE	COMPRESS_BYTE_COUNT	1731974
+SHUFFLE	COPY_MAP_DATA	103306000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5519785
+SHUFFLE	COMPRESS_BYTE_COUNT	1715781
+SHUFFLE	COPY_MAP_DATA	194167000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5508134
+SHUFFLE	COMPRESS_BYTE_COUNT	1711861
+SHUFFLE	COPY_MAP_DATA	230958000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5514219
+SHUFFLE	COMPRESS_BYTE_COUNT	1714096
+SHUFFLE	COPY_MAP_DATA	135909000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5485050
+SHUFFLE	COMPRESS_BYTE_COUNT	1705151
+SHUFFLE	COPY_MAP_DATA	131179000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5506149
+SHUFFLE	COMPRESS_BYTE_COUNT	1711364
+SHUFFLE	COPY_MAP_DATA	114174000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5453358
+SHUFFLE	COMPRESS_BYTE_COUNT	1696410
+SHUFFLE	COPY_MAP_DATA	129338000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5489455
+SHUFFLE	COMPRESS_BYTE_COUNT	1706278
+SHUFFLE	COPY_MAP_DATA	317232000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5501212
+SHUFFLE	COMPRESS_BYTE_COUNT	1731812
+SHUFFLE	COPY_MAP_DATA	98168000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5436260
+SHUFFLE	COMPRESS_BYTE_COUNT	1689968
+SHUFFLE	COPY_MAP_DATA	251169000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5548857
+SHUFFLE	COMPRESS_BYTE_COUNT	1724493
+SHUFFLE	COPY_MAP_DATA	96381000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5508803
+SHUFFLE	COMPRESS_BYTE_COUNT	1712525
+SHUFFLE	COPY_MAP_DATA	172600000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5455868
+SHUFFLE	COMPRESS_BYTE_COUNT	1718171
+SHUFFLE	COPY_MAP_DATA	85429000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5528818
+SHUFFLE	COMPRESS_BYTE_COUNT	1718426
+SHUFFLE	COPY_MAP_DATA	272395000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5500611
+SHUFFLE	COMPRESS_BYTE_COUNT	1710734
+SHUFFLE	COPY_MAP_DATA	90858000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5601080
+SHUFFLE	COMPRESS_BYTE_COUNT	1740310
+SHUFFLE	COPY_MAP_DATA	253150000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5485535
+SHUFFLE	COMPRESS_BYTE_COUNT	1706329
+SHUFFLE	COPY_MAP_DATA	183894000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5478960
+SHUFFLE	COMPRESS_BYTE_COUNT	1702603
+SHUFFLE	COPY_MAP_DATA	111093000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5541300
+SHUFFLE	COMPRESS_BYTE_COUNT	1722582
+SHUFFLE	COPY_MAP_DATA	120438000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5512841
+SHUFFLE	COMPRESS_BYTE_COUNT	1691944
+SHUFFLE	COPY_MAP_DATA	305030000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5469467
+SHUFFLE	COMPRESS_BYTE_COUNT	1699487
+SHUFFLE	COPY_MAP_DATA	3474388000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5463589
+SHUFFLE	COMPRESS_BYTE_COUNT	1698404
+SHUFFLE	COPY_MAP_DATA	721845000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5430486
+SHUFFLE	COMPRESS_BYTE_COUNT	1737749
+SHUFFLE	COPY_MAP_DATA	1649102000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5476166
+SHUFFLE	COMPRESS_BYTE_COUNT	1702251
+SHUFFLE	COPY_MAP_DATA	197620000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5530781
+SHUFFLE	COMPRESS_BYTE_COUNT	1695914
+SHUFFLE	COPY_MAP_DATA	87896000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5484585
+SHUFFLE	COMPRESS_BYTE_COUNT	1684461
+SHUFFLE	COPY_MAP_DATA	230770000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5515147
+SHUFFLE	COMPRESS_BYTE_COUNT	1715098
+SHUFFLE	COPY_MAP_DATA	279676000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5565625
+SHUFFLE	COMPRESS_BYTE_COUNT	1709446
+SHUFFLE	COPY_MAP_DATA	89181000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5487608
+SHUFFLE	COMPRESS_BYTE_COUNT	1706184
+SHUFFLE	COPY_MAP_DATA	119257000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5522808
+SHUFFLE	COMPRESS_BYTE_COUNT	1695902
+SHUFFLE	COPY_MAP_DATA	216178000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5535560
+SHUFFLE	COMPRESS_BYTE_COUNT	1720817
+SHUFFLE	COPY_MAP_DATA	112747000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5574440
+SHUFFLE	COMPRESS_BYTE_COUNT	1710752
+SHUFFLE	COPY_MAP_DATA	79540000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5491381
+SHUFFLE	COMPRESS_BYTE_COUNT	1706653
+SHUFFLE	COPY_MAP_DATA	5135408000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5529730
+SHUFFLE	COMPRESS_BYTE_COUNT	1718233
+SHUFFLE	COPY_MAP_DATA	184813000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5537598
+SHUFFLE	COMPRESS_BYTE_COUNT	1721628
+SHUFFLE	COPY_MAP_DATA	91412000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5545717
+SHUFFLE	COMPRESS_BYTE_COUNT	1702258
+SHUFFLE	COPY_MAP_DATA	167992000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5498208
+SHUFFLE	COMPRESS_BYTE_COUNT	1708542
+SHUFFLE	COPY_MAP_DATA	123782000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5499273
+SHUFFLE	COMPRESS_BYTE_COUNT	1708509
+SHUFFLE	COPY_MAP_DATA	164116000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5586398
+SHUFFLE	COMPRESS_BYTE_COUNT	1735706
+SHUFFLE	COPY_MAP_DATA	120833000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5539423
+SHUFFLE	COMPRESS_BYTE_COUNT	1743718
+SHUFFLE	COPY_MAP_DATA	162172000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5528550
+SHUFFLE	COMPRESS_BYTE_COUNT	1717943
+SHUFFLE	COPY_MAP_DATA	98733000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5544014
+SHUFFLE	COMPRESS_BYTE_COUNT	1701355
+SHUFFLE	COPY_MAP_DATA	1331848000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5528414
+SHUFFLE	COMPRESS_BYTE_COUNT	1718451
+SHUFFLE	COPY_MAP_DATA	104630000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5505318
+SHUFFLE	COMPRESS_BYTE_COUNT	1711582
+SHUFFLE	COPY_MAP_DATA	333204000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5552876
+SHUFFLE	COMPRESS_BYTE_COUNT	1704457
+SHUFFLE	COPY_MAP_DATA	101087000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5540324
+SHUFFLE	COMPRESS_BYTE_COUNT	1700803
+SHUFFLE	COPY_MAP_DATA	308974000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5539401
+SHUFFLE	COMPRESS_BYTE_COUNT	1718915
+SHUFFLE	COPY_MAP_DATA	7335629000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5490111
+SHUFFLE	COMPRESS_BYTE_COUNT	1708204
+SHUFFLE	COPY_MAP_DATA	102510000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5576393
+SHUFFLE	COMPRESS_BYTE_COUNT	1711938
+SHUFFLE	COPY_MAP_DATA	163361000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5460866
+SHUFFLE	COMPRESS_BYTE_COUNT	1698127
+SHUFFLE	COPY_MAP_DATA	349510000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5545157
+SHUFFLE	COMPRESS_BYTE_COUNT	1701457
+SHUFFLE	COPY_MAP_DATA	809152000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5559073
+SHUFFLE	COMPRESS_BYTE_COUNT	1707051
+SHUFFLE	COPY_MAP_DATA	202391000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5536688
+SHUFFLE	COMPRESS_BYTE_COUNT	1700176
+SHUFFLE	COPY_MAP_DATA	249972000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5485098
+SHUFFLE	COMPRESS_BYTE_COUNT	1684723
+SHUFFLE	COPY_MAP_DATA	91112000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5542658
+SHUFFLE	COMPRESS_BYTE_COUNT	1701577
+SHUFFLE	COPY_MAP_DATA	801557000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5510155
+SHUFFLE	COMPRESS_BYTE_COUNT	1734326
+SHUFFLE	COPY_MAP_DATA	101361000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5475441
+SHUFFLE	COMPRESS_BYTE_COUNT	1680849
+SHUFFLE	COPY_MAP_DATA	80116000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5527437
+SHUFFLE	COMPRESS_BYTE_COUNT	1741210
+SHUFFLE	COPY_MAP_DATA	82415000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5573935
+SHUFFLE	COMPRESS_BYTE_COUNT	1711649
+SHUFFLE	COPY_MAP_DATA	159450000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5592817
+SHUFFLE	COMPRESS_BYTE_COUNT	1715776
+SHUFFLE	COPY_MAP_DATA	100006000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5559107
+SHUFFLE	COMPRESS_BYTE_COUNT	1705525
+SHUFFLE	COPY_MAP_DATA	184775000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5554207
+SHUFFLE	COMPRESS_BYTE_COUNT	1704267
+SHUFFLE	COPY_MAP_DATA	104681000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5586521
+SHUFFLE	COMPRESS_BYTE_COUNT	1714709
+SHUFFLE	COPY_MAP_DATA	129432000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5556464
+SHUFFLE	COMPRESS_BYTE_COUNT	1705449
+SHUFFLE	COPY_MAP_DATA	192349000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5534573
+SHUFFLE	COMPRESS_BYTE_COUNT	1699358
+SHUFFLE	COPY_MAP_DATA	1881305000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5498176
+SHUFFLE	COMPRESS_BYTE_COUNT	1688261
+SHUFFLE	COPY_MAP_DATA	436574000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5547265
+SHUFFLE	COMPRESS_BYTE_COUNT	1701798
+SHUFFLE	COPY_MAP_DATA	184160000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5517925
+SHUFFLE	COMPRESS_BYTE_COUNT	1693962
+SHUFFLE	COPY_MAP_DATA	894131000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5614192
+SHUFFLE	COMPRESS_BYTE_COUNT	1723547
+SHUFFLE	COPY_MAP_DATA	99528000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5518369
+SHUFFLE	COMPRESS_BYTE_COUNT	1694194
+SHUFFLE	COPY_MAP_DATA	590480000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5437169
+SHUFFLE	COMPRESS_BYTE_COUNT	1709039
+SHUFFLE	COPY_MAP_DATA	949416000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5568414
+SHUFFLE	COMPRESS_BYTE_COUNT	1707862
+SHUFFLE	COPY_MAP_DATA	1343517000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5499531
+SHUFFLE	COMPRESS_BYTE_COUNT	1687341
+SHUFFLE	COPY_MAP_DATA	779493000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5521987
+SHUFFLE	COMPRESS_BYTE_COUNT	1695389
+SHUFFLE	COPY_MAP_DATA	417701000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5593810
+SHUFFLE	COMPRESS_BYTE_COUNT	1716457
+SHUFFLE	COPY_MAP_DATA	571304000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5538285
+SHUFFLE	COMPRESS_BYTE_COUNT	1700353
+SHUFFLE	COPY_MAP_DATA	146861000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5509623
+SHUFFLE	COMPRESS_BYTE_COUNT	1691557
+SHUFFLE	COPY_MAP_DATA	8449188000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5591487
+SHUFFLE	COMPRESS_BYTE_COUNT	1716282
+SHUFFLE	COPY_MAP_DATA	98176000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5586182
+SHUFFLE	COMPRESS_BYTE_COUNT	1714296
+SHUFFLE	COPY_MAP_DATA	163830000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5559778
+SHUFFLE	COMPRESS_BYTE_COUNT	1708128
+SHUFFLE	COPY_MAP_DATA	92651000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5543580
+SHUFFLE	COMPRESS_BYTE_COUNT	1702358
+SHUFFLE	COPY_MAP_DATA	136314000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5618915
+SHUFFLE	COMPRESS_BYTE_COUNT	1725053
+SHUFFLE	COPY_MAP_DATA	138784000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5532558
+SHUFFLE	COMPRESS_BYTE_COUNT	1698589
+SHUFFLE	COPY_MAP_DATA	85388000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5587137
+SHUFFLE	COMPRESS_BYTE_COUNT	1715708
+SHUFFLE	COPY_MAP_DATA	716508000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5578086
+SHUFFLE	COMPRESS_BYTE_COUNT	1712188
+SHUFFLE	COPY_MAP_DATA	912736000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5566303
+SHUFFLE	COMPRESS_BYTE_COUNT	1708515
+SHUFFLE	COPY_MAP_DATA	2764962000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5520748
+SHUFFLE	COMPRESS_BYTE_COUNT	1694916
+SHUFFLE	COPY_MAP_DATA	81993000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5543278
+SHUFFLE	COMPRESS_BYTE_COUNT	1702199
+SHUFFLE	COPY_MAP_DATA	89106000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5549914
+SHUFFLE	COMPRESS_BYTE_COUNT	1704106
+SHUFFLE	COPY_MAP_DATA	155998000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5488926
+SHUFFLE	COMPRESS_BYTE_COUNT	1707175
+SHUFFLE	COPY_MAP_DATA	98565000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5524571
+SHUFFLE	COMPRESS_BYTE_COUNT	1716152
+SHUFFLE	COPY_MAP_DATA	83991000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5533552
+SHUFFLE	COMPRESS_BYTE_COUNT	1718645
+SHUFFLE	COPY_MAP_DATA	782623000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5538850
+SHUFFLE	COMPRESS_BYTE_COUNT	1700175
+SHUFFLE	COPY_MAP_DATA	1797902000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5538873
+SHUFFLE	COMPRESS_BYTE_COUNT	1699649
+SHUFFLE	COPY_MAP_DATA	1520195000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5520961
+SHUFFLE	COMPRESS_BYTE_COUNT	1694795
+SHUFFLE	COPY_MAP_DATA	479362000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5521574
+SHUFFLE	COMPRESS_BYTE_COUNT	1695370
+SHUFFLE	COPY_MAP_DATA	1974219000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5531838
+SHUFFLE	COMPRESS_BYTE_COUNT	1697535
+SHUFFLE	COPY_MAP_DATA	4823935000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5574153
+SHUFFLE	COMPRESS_BYTE_COUNT	1710876
+SHUFFLE	COPY_MAP_DATA	98154000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5526819
+SHUFFLE	COMPRESS_BYTE_COUNT	1697454
+SHUFFLE	COPY_MAP_DATA	1597582000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5493936
+SHUFFLE	COMPRESS_BYTE_COUNT	1707794
+SHUFFLE	COPY_MAP_DATA	143089000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5551254
+SHUFFLE	COMPRESS_BYTE_COUNT	1705012
+SHUFFLE	COPY_MAP_DATA	2559959000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5561598
+SHUFFLE	COMPRESS_BYTE_COUNT	1707076
+SHUFFLE	COPY_MAP_DATA	5278794000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5592938
+SHUFFLE	COMPRESS_BYTE_COUNT	1716687
+SHUFFLE	COPY_MAP_DATA	1876516000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5538427
+SHUFFLE	COMPRESS_BYTE_COUNT	1699660
+SHUFFLE	COPY_MAP_DATA	115780000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5480653
+SHUFFLE	COMPRESS_BYTE_COUNT	1683073
+SHUFFLE	COPY_MAP_DATA	242361000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5532485
+SHUFFLE	COMPRESS_BYTE_COUNT	1698149
+SHUFFLE	COPY_MAP_DATA	360684000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5554499
+SHUFFLE	COMPRESS_BYTE_COUNT	1705122
+SHUFFLE	COPY_MAP_DATA	99990000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5543752
+SHUFFLE	COMPRESS_BYTE_COUNT	1701394
+SHUFFLE	COPY_MAP_DATA	2480811000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5513449
+SHUFFLE	COMPRESS_BYTE_COUNT	1693008
+SHUFFLE	COPY_MAP_DATA	375410000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5507096
+SHUFFLE	COMPRESS_BYTE_COUNT	1710813
+SHUFFLE	COPY_MAP_DATA	2210481000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5514628
+SHUFFLE	COMPRESS_BYTE_COUNT	1713867
+SHUFFLE	COPY_MAP_DATA	163400000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5542877
+SHUFFLE	COMPRESS_BYTE_COUNT	1723562
+SHUFFLE	COPY_MAP_DATA	86250000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5556977
+SHUFFLE	COMPRESS_BYTE_COUNT	1726483
+SHUFFLE	COPY_MAP_DATA	1636021000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5561011
+SHUFFLE	COMPRESS_BYTE_COUNT	1726459
+SHUFFLE	COPY_MAP_DATA	2123165000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5519622
+SHUFFLE	COMPRESS_BYTE_COUNT	1714039
+SHUFFLE	COPY_MAP_DATA	469692000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5508943
+SHUFFLE	COMPRESS_BYTE_COUNT	1691782
+SHUFFLE	COPY_MAP_DATA	82086000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5480254
+SHUFFLE	COMPRESS_BYTE_COUNT	1703645
+SHUFFLE	COPY_MAP_DATA	102173000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5548695
+SHUFFLE	COMPRESS_BYTE_COUNT	1723999
+SHUFFLE	COPY_MAP_DATA	98093000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5574616
+SHUFFLE	COMPRESS_BYTE_COUNT	1731936
+SHUFFLE	COPY_MAP_DATA	3093410000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5479535
+SHUFFLE	COMPRESS_BYTE_COUNT	1702858
+SHUFFLE	COPY_MAP_DATA	101422000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5577880
+SHUFFLE	COMPRESS_BYTE_COUNT	1732969
+SHUFFLE	COPY_MAP_DATA	101021000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5534491
+SHUFFLE	COMPRESS_BYTE_COUNT	1720480
+SHUFFLE	COPY_MAP_DATA	787512000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5553811
+SHUFFLE	COMPRESS_BYTE_COUNT	1726081
+SHUFFLE	COPY_MAP_DATA	171428000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5502612
+SHUFFLE	COMPRESS_BYTE_COUNT	1689623
+SHUFFLE	COPY_MAP_DATA	95512000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5495694
+SHUFFLE	COMPRESS_BYTE_COUNT	1708158
+SHUFFLE	COPY_MAP_DATA	3162270000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5482531
+SHUFFLE	COMPRESS_BYTE_COUNT	1703719
+SHUFFLE	COPY_MAP_DATA	2338550000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5575669
+SHUFFLE	COMPRESS_BYTE_COUNT	1732587
+SHUFFLE	COPY_MAP_DATA	1780232000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5531998
+SHUFFLE	COMPRESS_BYTE_COUNT	1698166
+SHUFFLE	COPY_MAP_DATA	2595801000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5452421
+SHUFFLE	COMPRESS_BYTE_COUNT	1695007
+SHUFFLE	COPY_MAP_DATA	161139000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5533806
+SHUFFLE	COMPRESS_BYTE_COUNT	1720242
+SHUFFLE	COPY_MAP_DATA	148496000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5543506
+SHUFFLE	COMPRESS_BYTE_COUNT	1723450
+SHUFFLE	COPY_MAP_DATA	183554000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5513131
+SHUFFLE	COMPRESS_BYTE_COUNT	1713189
+SHUFFLE	COPY_MAP_DATA	85943000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5570235
+SHUFFLE	COMPRESS_BYTE_COUNT	1730518
+SHUFFLE	COPY_MAP_DATA	101724000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5539932
+SHUFFLE	COMPRESS_BYTE_COUNT	1721166
+SHUFFLE	COPY_MAP_DATA	689657000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5475633
+SHUFFLE	COMPRESS_BYTE_COUNT	1702887
+SHUFFLE	COPY_MAP_DATA	97679000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5509868
+SHUFFLE	COMPRESS_BYTE_COUNT	1711227
+SHUFFLE	COPY_MAP_DATA	87478000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5457328
+SHUFFLE	COMPRESS_BYTE_COUNT	1697240
+SHUFFLE	COPY_MAP_DATA	665457000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5567793
+SHUFFLE	COMPRESS_BYTE_COUNT	1729346
+SHUFFLE	COPY_MAP_DATA	199774000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5483712
+SHUFFLE	COMPRESS_BYTE_COUNT	1704402
+SHUFFLE	COPY_MAP_DATA	87063000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5543770
+SHUFFLE	COMPRESS_BYTE_COUNT	1728149
+SHUFFLE	COPY_MAP_DATA	89450000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5491112
+SHUFFLE	COMPRESS_BYTE_COUNT	1706101
+SHUFFLE	COPY_MAP_DATA	85089000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5574704
+SHUFFLE	COMPRESS_BYTE_COUNT	1736488
+SHUFFLE	COPY_MAP_DATA	1195583000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5556147
+SHUFFLE	COMPRESS_BYTE_COUNT	1728924
+SHUFFLE	COPY_MAP_DATA	1850275000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5554720
+SHUFFLE	COMPRESS_BYTE_COUNT	1729614
+SHUFFLE	COPY_MAP_DATA	2451753000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5595824
+SHUFFLE	COMPRESS_BYTE_COUNT	1728250
+SHUFFLE	COPY_MAP_DATA	1786917000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5549637
+SHUFFLE	COMPRESS_BYTE_COUNT	1727865
+SHUFFLE	COPY_MAP_DATA	301016000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5528110
+SHUFFLE	COMPRESS_BYTE_COUNT	1719279
+SHUFFLE	COPY_MAP_DATA	94349000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5583075
+SHUFFLE	COMPRESS_BYTE_COUNT	1722898
+SHUFFLE	COPY_MAP_DATA	1447516000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5565453
+SHUFFLE	COMPRESS_BYTE_COUNT	1733720
+SHUFFLE	COPY_MAP_DATA	570149000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5591814
+SHUFFLE	COMPRESS_BYTE_COUNT	1726668
+SHUFFLE	COPY_MAP_DATA	88826000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5550032
+SHUFFLE	COMPRESS_BYTE_COUNT	1728763
+SHUFFLE	COPY_MAP_DATA	89664000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5588039
+SHUFFLE	COMPRESS_BYTE_COUNT	1725617
+SHUFFLE	COPY_MAP_DATA	85149000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5578648
+SHUFFLE	COMPRESS_BYTE_COUNT	1734146
+SHUFFLE	COPY_MAP_DATA	513518000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5466672
+SHUFFLE	COMPRESS_BYTE_COUNT	1698592
+SHUFFLE	COPY_MAP_DATA	85485000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5590231
+SHUFFLE	COMPRESS_BYTE_COUNT	1725524
+SHUFFLE	COPY_MAP_DATA	118687000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5542660
+SHUFFLE	COMPRESS_BYTE_COUNT	1728219
+SHUFFLE	COPY_MAP_DATA	338955000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4725802
+SHUFFLE	COMPRESS_BYTE_COUNT	1449754
+SHUFFLE	COPY_MAP_DATA	187638000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4455805
+SHUFFLE	COMPRESS_BYTE_COUNT	1385257
+SHUFFLE	COPY_MAP_DATA	70541000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4754286
+SHUFFLE	COMPRESS_BYTE_COUNT	1459214
+SHUFFLE	COPY_MAP_DATA	268861000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4497827
+SHUFFLE	COMPRESS_BYTE_COUNT	1399217
+SHUFFLE	COPY_MAP_DATA	92821000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5587012
+SHUFFLE	COMPRESS_BYTE_COUNT	1724386
+SHUFFLE	COPY_MAP_DATA	303766000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4737955
+SHUFFLE	COMPRESS_BYTE_COUNT	1454458
+SHUFFLE	COPY_MAP_DATA	89011000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5583612
+SHUFFLE	COMPRESS_BYTE_COUNT	1724311
+SHUFFLE	COPY_MAP_DATA	83884000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5560730
+SHUFFLE	COMPRESS_BYTE_COUNT	1731984
+SHUFFLE	COPY_MAP_DATA	407575000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5597560
+SHUFFLE	COMPRESS_BYTE_COUNT	1725909
+SHUFFLE	COPY_MAP_DATA	266855000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5524054
+SHUFFLE	COMPRESS_BYTE_COUNT	1738249
+SHUFFLE	COPY_MAP_DATA	101964000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5594107
+SHUFFLE	COMPRESS_BYTE_COUNT	1727930
+SHUFFLE	COPY_MAP_DATA	104518000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5564580
+SHUFFLE	COMPRESS_BYTE_COUNT	1732830
+SHUFFLE	COPY_MAP_DATA	81897000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4469640
+SHUFFLE	COMPRESS_BYTE_COUNT	1390366
+SHUFFLE	COPY_MAP_DATA	137121000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1737933
+SHUFFLE	COMPRESS_BYTE_COUNT	537266
+SHUFFLE	COPY_MAP_DATA	40207000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5502922
+SHUFFLE	COMPRESS_BYTE_COUNT	1744775
+SHUFFLE	COPY_MAP_DATA	84541000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5584359
+SHUFFLE	COMPRESS_BYTE_COUNT	1724091
+SHUFFLE	COPY_MAP_DATA	92486000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4467386
+SHUFFLE	COMPRESS_BYTE_COUNT	1388449
+SHUFFLE	COPY_MAP_DATA	105695000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5584649
+SHUFFLE	COMPRESS_BYTE_COUNT	1723946
+SHUFFLE	COPY_MAP_DATA	150009000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5543537
+SHUFFLE	COMPRESS_BYTE_COUNT	1726497
+SHUFFLE	COPY_MAP_DATA	82548000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5586594
+SHUFFLE	COMPRESS_BYTE_COUNT	1725505
+SHUFFLE	COPY_MAP_DATA	424599000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1741816
+SHUFFLE	COMPRESS_BYTE_COUNT	538946
+SHUFFLE	COPY_MAP_DATA	38270000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5596189
+SHUFFLE	COMPRESS_BYTE_COUNT	1727553
+SHUFFLE	COPY_MAP_DATA	106894000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4789514
+SHUFFLE	COMPRESS_BYTE_COUNT	1470771
+SHUFFLE	COPY_MAP_DATA	297951000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5556962
+SHUFFLE	COMPRESS_BYTE_COUNT	1731426
+SHUFFLE	COPY_MAP_DATA	89194000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4469261
+SHUFFLE	COMPRESS_BYTE_COUNT	1389132
+SHUFFLE	COPY_MAP_DATA	146337000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4739974
+SHUFFLE	COMPRESS_BYTE_COUNT	1454266
+SHUFFLE	COPY_MAP_DATA	73714000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4703889
+SHUFFLE	COMPRESS_BYTE_COUNT	1444715
+SHUFFLE	COPY_MAP_DATA	94102000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4461629
+SHUFFLE	COMPRESS_BYTE_COUNT	1386125
+SHUFFLE	COPY_MAP_DATA	71504000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4448238
+SHUFFLE	COMPRESS_BYTE_COUNT	1382778
+SHUFFLE	COPY_MAP_DATA	246399000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1740202
+SHUFFLE	COMPRESS_BYTE_COUNT	538477
+SHUFFLE	COPY_MAP_DATA	5084895000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5560481
+SHUFFLE	COMPRESS_BYTE_COUNT	1732741
+SHUFFLE	COPY_MAP_DATA	98457000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1744143
+SHUFFLE	COMPRESS_BYTE_COUNT	539661
+SHUFFLE	COPY_MAP_DATA	26156000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1660433
+SHUFFLE	COMPRESS_BYTE_COUNT	518263
+SHUFFLE	COPY_MAP_DATA	27902000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4751416
+SHUFFLE	COMPRESS_BYTE_COUNT	1457883
+SHUFFLE	COPY_MAP_DATA	85608000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5560315
+SHUFFLE	COMPRESS_BYTE_COUNT	1732696
+SHUFFLE	COPY_MAP_DATA	107422000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4396740
+SHUFFLE	COMPRESS_BYTE_COUNT	1365171
+SHUFFLE	COPY_MAP_DATA	202136000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1665695
+SHUFFLE	COMPRESS_BYTE_COUNT	519792
+SHUFFLE	COPY_MAP_DATA	26494000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4808385
+SHUFFLE	COMPRESS_BYTE_COUNT	1476306
+SHUFFLE	COPY_MAP_DATA	71698000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4440920
+SHUFFLE	COMPRESS_BYTE_COUNT	1380195
+SHUFFLE	COPY_MAP_DATA	93982000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1743636
+SHUFFLE	COMPRESS_BYTE_COUNT	538504
+SHUFFLE	COPY_MAP_DATA	86043000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1741762
+SHUFFLE	COMPRESS_BYTE_COUNT	538307
+SHUFFLE	COPY_MAP_DATA	397623000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1740948
+SHUFFLE	COMPRESS_BYTE_COUNT	538009
+SHUFFLE	COPY_MAP_DATA	29725000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4756229
+SHUFFLE	COMPRESS_BYTE_COUNT	1459314
+SHUFFLE	COPY_MAP_DATA	138112000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5552669
+SHUFFLE	COMPRESS_BYTE_COUNT	1729233
+SHUFFLE	COPY_MAP_DATA	91359000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4765755
+SHUFFLE	COMPRESS_BYTE_COUNT	1463774
+SHUFFLE	COPY_MAP_DATA	1625403000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4745013
+SHUFFLE	COMPRESS_BYTE_COUNT	1456565
+SHUFFLE	COPY_MAP_DATA	172069000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1737217
+SHUFFLE	COMPRESS_BYTE_COUNT	537505
+SHUFFLE	COPY_MAP_DATA	1518448000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4733181
+SHUFFLE	COMPRESS_BYTE_COUNT	1452448
+SHUFFLE	COPY_MAP_DATA	102359000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4436585
+SHUFFLE	COMPRESS_BYTE_COUNT	1379208
+SHUFFLE	COPY_MAP_DATA	109936000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1737989
+SHUFFLE	COMPRESS_BYTE_COUNT	537172
+SHUFFLE	COPY_MAP_DATA	36286000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4142332
+SHUFFLE	COMPRESS_BYTE_COUNT	1304460
+SHUFFLE	COPY_MAP_DATA	64298000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1745008
+SHUFFLE	COMPRESS_BYTE_COUNT	539058
+SHUFFLE	COPY_MAP_DATA	28404000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1666330
+SHUFFLE	COMPRESS_BYTE_COUNT	519996
+SHUFFLE	COPY_MAP_DATA	64585000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1662716
+SHUFFLE	COMPRESS_BYTE_COUNT	518656
+SHUFFLE	COPY_MAP_DATA	26268000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4432230
+SHUFFLE	COMPRESS_BYTE_COUNT	1377471
+SHUFFLE	COPY_MAP_DATA	409839000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1666974
+SHUFFLE	COMPRESS_BYTE_COUNT	520666
+SHUFFLE	COPY_MAP_DATA	127035000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1737083
+SHUFFLE	COMPRESS_BYTE_COUNT	537812
+SHUFFLE	COPY_MAP_DATA	77726000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1663251
+SHUFFLE	COMPRESS_BYTE_COUNT	519199
+SHUFFLE	COPY_MAP_DATA	31388000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1664398
+SHUFFLE	COMPRESS_BYTE_COUNT	519553
+SHUFFLE	COPY_MAP_DATA	188806000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4286595
+SHUFFLE	COMPRESS_BYTE_COUNT	1332537
+SHUFFLE	COPY_MAP_DATA	65023000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1666210
+SHUFFLE	COMPRESS_BYTE_COUNT	519692
+SHUFFLE	COPY_MAP_DATA	26357000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1732684
+SHUFFLE	COMPRESS_BYTE_COUNT	535902
+SHUFFLE	COPY_MAP_DATA	218263000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1657463
+SHUFFLE	COMPRESS_BYTE_COUNT	517585
+SHUFFLE	COPY_MAP_DATA	28433000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1697540
+SHUFFLE	COMPRESS_BYTE_COUNT	524384
+SHUFFLE	COPY_MAP_DATA	444283000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1663625
+SHUFFLE	COMPRESS_BYTE_COUNT	519041
+SHUFFLE	COPY_MAP_DATA	231455000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1735473
+SHUFFLE	COMPRESS_BYTE_COUNT	536412
+SHUFFLE	COPY_MAP_DATA	169995000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1622134
+SHUFFLE	COMPRESS_BYTE_COUNT	506274
+SHUFFLE	COPY_MAP_DATA	25504000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4425940
+SHUFFLE	COMPRESS_BYTE_COUNT	1375700
+SHUFFLE	COPY_MAP_DATA	296125000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1659983
+SHUFFLE	COMPRESS_BYTE_COUNT	517501
+SHUFFLE	COPY_MAP_DATA	327186000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1667377
+SHUFFLE	COMPRESS_BYTE_COUNT	520159
+SHUFFLE	COPY_MAP_DATA	26830000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4743608
+SHUFFLE	COMPRESS_BYTE_COUNT	1456776
+SHUFFLE	COPY_MAP_DATA	69449000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1662021
+SHUFFLE	COMPRESS_BYTE_COUNT	518940
+SHUFFLE	COPY_MAP_DATA	26507000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1667225
+SHUFFLE	COMPRESS_BYTE_COUNT	519595
+SHUFFLE	COPY_MAP_DATA	25022000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4442061
+SHUFFLE	COMPRESS_BYTE_COUNT	1380124
+SHUFFLE	COPY_MAP_DATA	69271000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1581592
+SHUFFLE	COMPRESS_BYTE_COUNT	499172
+SHUFFLE	COPY_MAP_DATA	25256000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4512358
+SHUFFLE	COMPRESS_BYTE_COUNT	1385233
+SHUFFLE	COPY_MAP_DATA	85066000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4461334
+SHUFFLE	COMPRESS_BYTE_COUNT	1386084
+SHUFFLE	COPY_MAP_DATA	100430000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	437227710000
+MERGE	READ_WRITE	431154452000
+MERGE	READ_WRITE_COUNT	8
+MERGE	COMBINE	0
+MERGE	WRITE	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	9033896000
+SORT	READ_WRITE	8865130000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	174921096
+REDUCE	SETUP	335000
+REDUCE	SETUP_MEM	174921096
+REDUCE	CLEANUP	36000
+REDUCE	CLEANUP_MEM	192481032
+REDUCE	TOTAL_RUN	598320626000
+REDUCE	READ	16155469000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	572707539000
+REDUCE	WRITE	358292009000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	55888916
+REDUCE	VALUE_BYTE_COUNT	1647890764
+REDUCE	REDUCE_MEM	192483080
+REDUCE	WRITE	218367000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	1305701007490
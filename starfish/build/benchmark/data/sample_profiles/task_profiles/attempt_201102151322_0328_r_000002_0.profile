@@ -0,0 +1,989 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5470778
+SHUFFLE	COMPRESS_BYTE_COUNT	1722373
+SHUFFLE	COPY_MAP_DATA	135265000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5519340
+SHUFFLE	COMPRESS_BYTE_COUNT	1717175
+SHUFFLE	COPY_MAP_DATA	219494000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5484268
+SHUFFLE	COMPRESS_BYTE_COUNT	1726820
+SHUFFLE	COPY_MAP_DATA	654825000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5516885
+SHUFFLE	COMPRESS_BYTE_COUNT	1714591
+SHUFFLE	COPY_MAP_DATA	221124000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5528411
+SHUFFLE	COMPRESS_BYTE_COUNT	1717349
+SHUFFLE	COPY_MAP_DATA	213516000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5497833
+SHUFFLE	COMPRESS_BYTE_COUNT	1709720
+SHUFFLE	COPY_MAP_DATA	198033000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5471841
+SHUFFLE	COMPRESS_BYTE_COUNT	1701789
+SHUFFLE	COPY_MAP_DATA	131850000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5547698
+SHUFFLE	COMPRESS_BYTE_COUNT	1723090
+SHUFFLE	COPY_MAP_DATA	100673000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5526371
+SHUFFLE	COMPRESS_BYTE_COUNT	1717900
+SHUFFLE	COPY_MAP_DATA	202836000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5547643
+SHUFFLE	COMPRESS_BYTE_COUNT	1724432
+SHUFFLE	COPY_MAP_DATA	165678000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5505934
+SHUFFLE	COMPRESS_BYTE_COUNT	1711252
+SHUFFLE	COPY_MAP_DATA	208452000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5500218
+SHUFFLE	COMPRESS_BYTE_COUNT	1708786
+SHUFFLE	COPY_MAP_DATA	198864000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5546584
+SHUFFLE	COMPRESS_BYTE_COUNT	1724038
+SHUFFLE	COPY_MAP_DATA	368651000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5472972
+SHUFFLE	COMPRESS_BYTE_COUNT	1701161
+SHUFFLE	COPY_MAP_DATA	284309000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5521653
+SHUFFLE	COMPRESS_BYTE_COUNT	1715692
+SHUFFLE	COPY_MAP_DATA	148313000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5504339
+SHUFFLE	COMPRESS_BYTE_COUNT	1710481
+SHUFFLE	COPY_MAP_DATA	273701000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5533621
+SHUFFLE	COMPRESS_BYTE_COUNT	1721000
+SHUFFLE	COPY_MAP_DATA	99458000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5457316
+SHUFFLE	COMPRESS_BYTE_COUNT	1697872
+SHUFFLE	COPY_MAP_DATA	96803000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5534369
+SHUFFLE	COMPRESS_BYTE_COUNT	1721822
+SHUFFLE	COPY_MAP_DATA	267727000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5522306
+SHUFFLE	COMPRESS_BYTE_COUNT	1738721
+SHUFFLE	COPY_MAP_DATA	473164000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5515691
+SHUFFLE	COMPRESS_BYTE_COUNT	1736571
+SHUFFLE	COPY_MAP_DATA	194637000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5537861
+SHUFFLE	COMPRESS_BYTE_COUNT	1721061
+SHUFFLE	COPY_MAP_DATA	96787000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5578166
+SHUFFLE	COMPRESS_BYTE_COUNT	1733371
+SHUFFLE	COPY_MAP_DATA	268790000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5529713
+SHUFFLE	COMPRESS_BYTE_COUNT	1718634
+SHUFFLE	COPY_MAP_DATA	215354000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5500591
+SHUFFLE	COMPRESS_BYTE_COUNT	1708963
+SHUFFLE	COPY_MAP_DATA	104062000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5567253
+SHUFFLE	COMPRESS_BYTE_COUNT	1708681
+SHUFFLE	COPY_MAP_DATA	226628000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5453658
+SHUFFLE	COMPRESS_BYTE_COUNT	1695008
+SHUFFLE	COPY_MAP_DATA	1479940000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5566781
+SHUFFLE	COMPRESS_BYTE_COUNT	1730586
+SHUFFLE	COPY_MAP_DATA	114157000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5503813
+SHUFFLE	COMPRESS_BYTE_COUNT	1709901
+SHUFFLE	COPY_MAP_DATA	225733000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5450563
+SHUFFLE	COMPRESS_BYTE_COUNT	1743493
+SHUFFLE	COPY_MAP_DATA	262756000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5537373
+SHUFFLE	COMPRESS_BYTE_COUNT	1700767
+SHUFFLE	COPY_MAP_DATA	1041023000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5513912
+SHUFFLE	COMPRESS_BYTE_COUNT	1713092
+SHUFFLE	COPY_MAP_DATA	109000000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5520333
+SHUFFLE	COMPRESS_BYTE_COUNT	1715079
+SHUFFLE	COPY_MAP_DATA	192053000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5549742
+SHUFFLE	COMPRESS_BYTE_COUNT	1703864
+SHUFFLE	COPY_MAP_DATA	712507000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5541989
+SHUFFLE	COMPRESS_BYTE_COUNT	1700579
+SHUFFLE	COPY_MAP_DATA	162896000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5586222
+SHUFFLE	COMPRESS_BYTE_COUNT	1715221
+SHUFFLE	COPY_MAP_DATA	826577000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5582277
+SHUFFLE	COMPRESS_BYTE_COUNT	1713686
+SHUFFLE	COPY_MAP_DATA	108569000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5530427
+SHUFFLE	COMPRESS_BYTE_COUNT	1718543
+SHUFFLE	COPY_MAP_DATA	308780000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5579475
+SHUFFLE	COMPRESS_BYTE_COUNT	1734978
+SHUFFLE	COPY_MAP_DATA	449278000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5523148
+SHUFFLE	COMPRESS_BYTE_COUNT	1715884
+SHUFFLE	COPY_MAP_DATA	136332000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5507149
+SHUFFLE	COMPRESS_BYTE_COUNT	1711695
+SHUFFLE	COPY_MAP_DATA	130681000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5506757
+SHUFFLE	COMPRESS_BYTE_COUNT	1711794
+SHUFFLE	COPY_MAP_DATA	91288000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5501066
+SHUFFLE	COMPRESS_BYTE_COUNT	1731378
+SHUFFLE	COPY_MAP_DATA	92646000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5502480
+SHUFFLE	COMPRESS_BYTE_COUNT	1710423
+SHUFFLE	COPY_MAP_DATA	471301000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5521024
+SHUFFLE	COMPRESS_BYTE_COUNT	1715985
+SHUFFLE	COPY_MAP_DATA	210321000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5514488
+SHUFFLE	COMPRESS_BYTE_COUNT	1713038
+SHUFFLE	COPY_MAP_DATA	210023000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5548943
+SHUFFLE	COMPRESS_BYTE_COUNT	1723486
+SHUFFLE	COPY_MAP_DATA	1057394000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5543720
+SHUFFLE	COMPRESS_BYTE_COUNT	1703003
+SHUFFLE	COPY_MAP_DATA	96309000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5556773
+SHUFFLE	COMPRESS_BYTE_COUNT	1706050
+SHUFFLE	COPY_MAP_DATA	1530026000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5500687
+SHUFFLE	COMPRESS_BYTE_COUNT	1710155
+SHUFFLE	COPY_MAP_DATA	229492000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5465962
+SHUFFLE	COMPRESS_BYTE_COUNT	1699632
+SHUFFLE	COPY_MAP_DATA	179092000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5530106
+SHUFFLE	COMPRESS_BYTE_COUNT	1697991
+SHUFFLE	COPY_MAP_DATA	337852000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5531663
+SHUFFLE	COMPRESS_BYTE_COUNT	1697335
+SHUFFLE	COPY_MAP_DATA	350362000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5518354
+SHUFFLE	COMPRESS_BYTE_COUNT	1716080
+SHUFFLE	COPY_MAP_DATA	128310000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5546319
+SHUFFLE	COMPRESS_BYTE_COUNT	1721207
+SHUFFLE	COPY_MAP_DATA	3388848000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5551230
+SHUFFLE	COMPRESS_BYTE_COUNT	1704174
+SHUFFLE	COPY_MAP_DATA	124677000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5531026
+SHUFFLE	COMPRESS_BYTE_COUNT	1717898
+SHUFFLE	COPY_MAP_DATA	92281000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5520901
+SHUFFLE	COMPRESS_BYTE_COUNT	1695426
+SHUFFLE	COPY_MAP_DATA	297547000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5546289
+SHUFFLE	COMPRESS_BYTE_COUNT	1702906
+SHUFFLE	COPY_MAP_DATA	135857000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5582869
+SHUFFLE	COMPRESS_BYTE_COUNT	1714483
+SHUFFLE	COPY_MAP_DATA	562938000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5495816
+SHUFFLE	COMPRESS_BYTE_COUNT	1687522
+SHUFFLE	COPY_MAP_DATA	106316000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5513291
+SHUFFLE	COMPRESS_BYTE_COUNT	1692456
+SHUFFLE	COPY_MAP_DATA	119366000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5474532
+SHUFFLE	COMPRESS_BYTE_COUNT	1723562
+SHUFFLE	COPY_MAP_DATA	90733000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5524253
+SHUFFLE	COMPRESS_BYTE_COUNT	1738598
+SHUFFLE	COPY_MAP_DATA	851569000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5573293
+SHUFFLE	COMPRESS_BYTE_COUNT	1710014
+SHUFFLE	COPY_MAP_DATA	299967000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5598191
+SHUFFLE	COMPRESS_BYTE_COUNT	1718431
+SHUFFLE	COPY_MAP_DATA	107635000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5501807
+SHUFFLE	COMPRESS_BYTE_COUNT	1688218
+SHUFFLE	COPY_MAP_DATA	105494000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5556304
+SHUFFLE	COMPRESS_BYTE_COUNT	1706104
+SHUFFLE	COPY_MAP_DATA	90698000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5534534
+SHUFFLE	COMPRESS_BYTE_COUNT	1697831
+SHUFFLE	COPY_MAP_DATA	304874000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5553073
+SHUFFLE	COMPRESS_BYTE_COUNT	1704965
+SHUFFLE	COPY_MAP_DATA	226777000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5591507
+SHUFFLE	COMPRESS_BYTE_COUNT	1716117
+SHUFFLE	COPY_MAP_DATA	89458000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5544292
+SHUFFLE	COMPRESS_BYTE_COUNT	1701480
+SHUFFLE	COPY_MAP_DATA	108771000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5573691
+SHUFFLE	COMPRESS_BYTE_COUNT	1710424
+SHUFFLE	COPY_MAP_DATA	91376000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5520505
+SHUFFLE	COMPRESS_BYTE_COUNT	1695860
+SHUFFLE	COPY_MAP_DATA	330051000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5577913
+SHUFFLE	COMPRESS_BYTE_COUNT	1711957
+SHUFFLE	COPY_MAP_DATA	363543000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5561439
+SHUFFLE	COMPRESS_BYTE_COUNT	1707853
+SHUFFLE	COPY_MAP_DATA	92821000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5485554
+SHUFFLE	COMPRESS_BYTE_COUNT	1683909
+SHUFFLE	COPY_MAP_DATA	193368000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5561271
+SHUFFLE	COMPRESS_BYTE_COUNT	1708131
+SHUFFLE	COPY_MAP_DATA	227852000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5479620
+SHUFFLE	COMPRESS_BYTE_COUNT	1721090
+SHUFFLE	COPY_MAP_DATA	1674009000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5514581
+SHUFFLE	COMPRESS_BYTE_COUNT	1692639
+SHUFFLE	COPY_MAP_DATA	532613000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5572812
+SHUFFLE	COMPRESS_BYTE_COUNT	1710749
+SHUFFLE	COPY_MAP_DATA	226435000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5526796
+SHUFFLE	COMPRESS_BYTE_COUNT	1696776
+SHUFFLE	COPY_MAP_DATA	161179000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5568409
+SHUFFLE	COMPRESS_BYTE_COUNT	1709089
+SHUFFLE	COPY_MAP_DATA	100054000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5515823
+SHUFFLE	COMPRESS_BYTE_COUNT	1691551
+SHUFFLE	COPY_MAP_DATA	136178000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5543012
+SHUFFLE	COMPRESS_BYTE_COUNT	1700847
+SHUFFLE	COPY_MAP_DATA	5396774000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5609696
+SHUFFLE	COMPRESS_BYTE_COUNT	1722278
+SHUFFLE	COPY_MAP_DATA	110343000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5531732
+SHUFFLE	COMPRESS_BYTE_COUNT	1697927
+SHUFFLE	COPY_MAP_DATA	92169000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5539606
+SHUFFLE	COMPRESS_BYTE_COUNT	1700590
+SHUFFLE	COPY_MAP_DATA	119482000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5548273
+SHUFFLE	COMPRESS_BYTE_COUNT	1703788
+SHUFFLE	COPY_MAP_DATA	174605000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5560597
+SHUFFLE	COMPRESS_BYTE_COUNT	1706875
+SHUFFLE	COPY_MAP_DATA	617760000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5576331
+SHUFFLE	COMPRESS_BYTE_COUNT	1711123
+SHUFFLE	COPY_MAP_DATA	1698872000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5613023
+SHUFFLE	COMPRESS_BYTE_COUNT	1722321
+SHUFFLE	COPY_MAP_DATA	322593000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5584479
+SHUFFLE	COMPRESS_BYTE_COUNT	1714186
+SHUFFLE	COPY_MAP_DATA	135907000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5530735
+SHUFFLE	COMPRESS_BYTE_COUNT	1698822
+SHUFFLE	COPY_MAP_DATA	161159000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5563477
+SHUFFLE	COMPRESS_BYTE_COUNT	1708708
+SHUFFLE	COPY_MAP_DATA	393852000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5567139
+SHUFFLE	COMPRESS_BYTE_COUNT	1708611
+SHUFFLE	COPY_MAP_DATA	1630976000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5496701
+SHUFFLE	COMPRESS_BYTE_COUNT	1707687
+SHUFFLE	COPY_MAP_DATA	657186000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5560324
+SHUFFLE	COMPRESS_BYTE_COUNT	1706561
+SHUFFLE	COPY_MAP_DATA	283289000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5586611
+SHUFFLE	COMPRESS_BYTE_COUNT	1715043
+SHUFFLE	COPY_MAP_DATA	282094000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5543232
+SHUFFLE	COMPRESS_BYTE_COUNT	1701461
+SHUFFLE	COPY_MAP_DATA	143585000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5540408
+SHUFFLE	COMPRESS_BYTE_COUNT	1722145
+SHUFFLE	COPY_MAP_DATA	108988000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5489011
+SHUFFLE	COMPRESS_BYTE_COUNT	1707194
+SHUFFLE	COPY_MAP_DATA	673487000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5546963
+SHUFFLE	COMPRESS_BYTE_COUNT	1702805
+SHUFFLE	COPY_MAP_DATA	585357000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5516114
+SHUFFLE	COMPRESS_BYTE_COUNT	1693006
+SHUFFLE	COPY_MAP_DATA	281223000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5541749
+SHUFFLE	COMPRESS_BYTE_COUNT	1700798
+SHUFFLE	COPY_MAP_DATA	310603000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5503152
+SHUFFLE	COMPRESS_BYTE_COUNT	1711073
+SHUFFLE	COPY_MAP_DATA	1184311000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5571878
+SHUFFLE	COMPRESS_BYTE_COUNT	1709608
+SHUFFLE	COPY_MAP_DATA	5576297000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5544357
+SHUFFLE	COMPRESS_BYTE_COUNT	1700749
+SHUFFLE	COPY_MAP_DATA	227312000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5553307
+SHUFFLE	COMPRESS_BYTE_COUNT	1704913
+SHUFFLE	COPY_MAP_DATA	90778000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5543334
+SHUFFLE	COMPRESS_BYTE_COUNT	1701661
+SHUFFLE	COPY_MAP_DATA	8833298000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5507552
+SHUFFLE	COMPRESS_BYTE_COUNT	1690915
+SHUFFLE	COPY_MAP_DATA	368739000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5580182
+SHUFFLE	COMPRESS_BYTE_COUNT	1712435
+SHUFFLE	COPY_MAP_DATA	89010000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5555905
+SHUFFLE	COMPRESS_BYTE_COUNT	1704779
+SHUFFLE	COPY_MAP_DATA	182442000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5479688
+SHUFFLE	COMPRESS_BYTE_COUNT	1682942
+SHUFFLE	COPY_MAP_DATA	524748000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5541113
+SHUFFLE	COMPRESS_BYTE_COUNT	1700418
+SHUFFLE	COPY_MAP_DATA	275463000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5584152
+SHUFFLE	COMPRESS_BYTE_COUNT	1713957
+SHUFFLE	COPY_MAP_DATA	550996000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5519249
+SHUFFLE	COMPRESS_BYTE_COUNT	1715686
+SHUFFLE	COPY_MAP_DATA	245120000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5464440
+SHUFFLE	COMPRESS_BYTE_COUNT	1698440
+SHUFFLE	COPY_MAP_DATA	354440000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5526863
+SHUFFLE	COMPRESS_BYTE_COUNT	1717094
+SHUFFLE	COPY_MAP_DATA	408939000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5511223
+SHUFFLE	COMPRESS_BYTE_COUNT	1713910
+SHUFFLE	COPY_MAP_DATA	1669220000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5495796
+SHUFFLE	COMPRESS_BYTE_COUNT	1708029
+SHUFFLE	COPY_MAP_DATA	88922000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5527206
+SHUFFLE	COMPRESS_BYTE_COUNT	1718593
+SHUFFLE	COPY_MAP_DATA	316357000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5538862
+SHUFFLE	COMPRESS_BYTE_COUNT	1699746
+SHUFFLE	COPY_MAP_DATA	363892000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5481969
+SHUFFLE	COMPRESS_BYTE_COUNT	1703737
+SHUFFLE	COPY_MAP_DATA	2399750000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5518360
+SHUFFLE	COMPRESS_BYTE_COUNT	1715379
+SHUFFLE	COPY_MAP_DATA	809796000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5542181
+SHUFFLE	COMPRESS_BYTE_COUNT	1723086
+SHUFFLE	COPY_MAP_DATA	116316000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5507611
+SHUFFLE	COMPRESS_BYTE_COUNT	1711776
+SHUFFLE	COPY_MAP_DATA	244425000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5525910
+SHUFFLE	COMPRESS_BYTE_COUNT	1717641
+SHUFFLE	COPY_MAP_DATA	91088000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5595230
+SHUFFLE	COMPRESS_BYTE_COUNT	1739518
+SHUFFLE	COPY_MAP_DATA	457774000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5504027
+SHUFFLE	COMPRESS_BYTE_COUNT	1711773
+SHUFFLE	COPY_MAP_DATA	106685000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5469325
+SHUFFLE	COMPRESS_BYTE_COUNT	1700380
+SHUFFLE	COPY_MAP_DATA	252709000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5554839
+SHUFFLE	COMPRESS_BYTE_COUNT	1704764
+SHUFFLE	COPY_MAP_DATA	97227000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5472423
+SHUFFLE	COMPRESS_BYTE_COUNT	1700350
+SHUFFLE	COPY_MAP_DATA	1118924000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5569274
+SHUFFLE	COMPRESS_BYTE_COUNT	1709339
+SHUFFLE	COPY_MAP_DATA	764414000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5556452
+SHUFFLE	COMPRESS_BYTE_COUNT	1727074
+SHUFFLE	COPY_MAP_DATA	191730000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5571445
+SHUFFLE	COMPRESS_BYTE_COUNT	1730855
+SHUFFLE	COPY_MAP_DATA	177795000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5486237
+SHUFFLE	COMPRESS_BYTE_COUNT	1706625
+SHUFFLE	COPY_MAP_DATA	842283000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5507405
+SHUFFLE	COMPRESS_BYTE_COUNT	1711448
+SHUFFLE	COPY_MAP_DATA	133028000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5497511
+SHUFFLE	COMPRESS_BYTE_COUNT	1709002
+SHUFFLE	COPY_MAP_DATA	1839350000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5542491
+SHUFFLE	COMPRESS_BYTE_COUNT	1722261
+SHUFFLE	COPY_MAP_DATA	137058000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5495064
+SHUFFLE	COMPRESS_BYTE_COUNT	1707505
+SHUFFLE	COPY_MAP_DATA	90661000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5522689
+SHUFFLE	COMPRESS_BYTE_COUNT	1715454
+SHUFFLE	COPY_MAP_DATA	229378000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5517939
+SHUFFLE	COMPRESS_BYTE_COUNT	1714385
+SHUFFLE	COPY_MAP_DATA	359290000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5516742
+SHUFFLE	COMPRESS_BYTE_COUNT	1713990
+SHUFFLE	COPY_MAP_DATA	96970000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5512629
+SHUFFLE	COMPRESS_BYTE_COUNT	1712938
+SHUFFLE	COPY_MAP_DATA	237466000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5442982
+SHUFFLE	COMPRESS_BYTE_COUNT	1691583
+SHUFFLE	COPY_MAP_DATA	1041878000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5550272
+SHUFFLE	COMPRESS_BYTE_COUNT	1728316
+SHUFFLE	COPY_MAP_DATA	471448000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5493786
+SHUFFLE	COMPRESS_BYTE_COUNT	1707104
+SHUFFLE	COPY_MAP_DATA	115019000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5567082
+SHUFFLE	COMPRESS_BYTE_COUNT	1734520
+SHUFFLE	COPY_MAP_DATA	880641000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5554255
+SHUFFLE	COMPRESS_BYTE_COUNT	1727791
+SHUFFLE	COPY_MAP_DATA	580693000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5594249
+SHUFFLE	COMPRESS_BYTE_COUNT	1727315
+SHUFFLE	COPY_MAP_DATA	619514000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5486190
+SHUFFLE	COMPRESS_BYTE_COUNT	1705297
+SHUFFLE	COPY_MAP_DATA	101692000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5557526
+SHUFFLE	COMPRESS_BYTE_COUNT	1730658
+SHUFFLE	COPY_MAP_DATA	113107000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5583439
+SHUFFLE	COMPRESS_BYTE_COUNT	1723405
+SHUFFLE	COPY_MAP_DATA	151495000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5539926
+SHUFFLE	COMPRESS_BYTE_COUNT	1726206
+SHUFFLE	COPY_MAP_DATA	922047000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5565212
+SHUFFLE	COMPRESS_BYTE_COUNT	1733332
+SHUFFLE	COPY_MAP_DATA	445339000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5595813
+SHUFFLE	COMPRESS_BYTE_COUNT	1727930
+SHUFFLE	COPY_MAP_DATA	348869000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5554060
+SHUFFLE	COMPRESS_BYTE_COUNT	1729433
+SHUFFLE	COPY_MAP_DATA	779337000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5600322
+SHUFFLE	COMPRESS_BYTE_COUNT	1728043
+SHUFFLE	COPY_MAP_DATA	178680000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5561455
+SHUFFLE	COMPRESS_BYTE_COUNT	1728205
+SHUFFLE	COPY_MAP_DATA	147987000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5519632
+SHUFFLE	COMPRESS_BYTE_COUNT	1715372
+SHUFFLE	COPY_MAP_DATA	166089000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4684225
+SHUFFLE	COMPRESS_BYTE_COUNT	1438858
+SHUFFLE	COPY_MAP_DATA	315400000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5588465
+SHUFFLE	COMPRESS_BYTE_COUNT	1725160
+SHUFFLE	COPY_MAP_DATA	100748000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4459626
+SHUFFLE	COMPRESS_BYTE_COUNT	1384807
+SHUFFLE	COPY_MAP_DATA	116009000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4717525
+SHUFFLE	COMPRESS_BYTE_COUNT	1449146
+SHUFFLE	COPY_MAP_DATA	165556000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5563651
+SHUFFLE	COMPRESS_BYTE_COUNT	1732234
+SHUFFLE	COPY_MAP_DATA	159817000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4437922
+SHUFFLE	COMPRESS_BYTE_COUNT	1378606
+SHUFFLE	COPY_MAP_DATA	201822000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5582424
+SHUFFLE	COMPRESS_BYTE_COUNT	1723782
+SHUFFLE	COPY_MAP_DATA	151983000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4754600
+SHUFFLE	COMPRESS_BYTE_COUNT	1460192
+SHUFFLE	COPY_MAP_DATA	2465494000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5586542
+SHUFFLE	COMPRESS_BYTE_COUNT	1724464
+SHUFFLE	COPY_MAP_DATA	508720000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5599439
+SHUFFLE	COMPRESS_BYTE_COUNT	1728043
+SHUFFLE	COPY_MAP_DATA	189940000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5562146
+SHUFFLE	COMPRESS_BYTE_COUNT	1732391
+SHUFFLE	COPY_MAP_DATA	110249000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5519339
+SHUFFLE	COMPRESS_BYTE_COUNT	1737133
+SHUFFLE	COPY_MAP_DATA	385984000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5593057
+SHUFFLE	COMPRESS_BYTE_COUNT	1726531
+SHUFFLE	COPY_MAP_DATA	1300253000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5558250
+SHUFFLE	COMPRESS_BYTE_COUNT	1731991
+SHUFFLE	COPY_MAP_DATA	89878000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4443467
+SHUFFLE	COMPRESS_BYTE_COUNT	1380440
+SHUFFLE	COPY_MAP_DATA	106326000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5595919
+SHUFFLE	COMPRESS_BYTE_COUNT	1726873
+SHUFFLE	COPY_MAP_DATA	91861000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5509563
+SHUFFLE	COMPRESS_BYTE_COUNT	1747029
+SHUFFLE	COPY_MAP_DATA	107789000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4476037
+SHUFFLE	COMPRESS_BYTE_COUNT	1390858
+SHUFFLE	COPY_MAP_DATA	109413000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1736622
+SHUFFLE	COMPRESS_BYTE_COUNT	537452
+SHUFFLE	COPY_MAP_DATA	30253000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5584835
+SHUFFLE	COMPRESS_BYTE_COUNT	1723078
+SHUFFLE	COPY_MAP_DATA	254183000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5543538
+SHUFFLE	COMPRESS_BYTE_COUNT	1726811
+SHUFFLE	COPY_MAP_DATA	107864000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5594579
+SHUFFLE	COMPRESS_BYTE_COUNT	1726775
+SHUFFLE	COPY_MAP_DATA	128801000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5597146
+SHUFFLE	COMPRESS_BYTE_COUNT	1728312
+SHUFFLE	COPY_MAP_DATA	100210000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1742881
+SHUFFLE	COMPRESS_BYTE_COUNT	538668
+SHUFFLE	COPY_MAP_DATA	36300000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4795900
+SHUFFLE	COMPRESS_BYTE_COUNT	1471337
+SHUFFLE	COPY_MAP_DATA	76590000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4466441
+SHUFFLE	COMPRESS_BYTE_COUNT	1389283
+SHUFFLE	COPY_MAP_DATA	82989000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4753000
+SHUFFLE	COMPRESS_BYTE_COUNT	1458826
+SHUFFLE	COPY_MAP_DATA	938603000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4703120
+SHUFFLE	COMPRESS_BYTE_COUNT	1442219
+SHUFFLE	COPY_MAP_DATA	302852000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5565382
+SHUFFLE	COMPRESS_BYTE_COUNT	1733348
+SHUFFLE	COPY_MAP_DATA	149839000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4410380
+SHUFFLE	COMPRESS_BYTE_COUNT	1370968
+SHUFFLE	COPY_MAP_DATA	111255000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4410595
+SHUFFLE	COMPRESS_BYTE_COUNT	1370966
+SHUFFLE	COPY_MAP_DATA	234235000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1740159
+SHUFFLE	COMPRESS_BYTE_COUNT	538099
+SHUFFLE	COPY_MAP_DATA	1715141000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1744825
+SHUFFLE	COMPRESS_BYTE_COUNT	539084
+SHUFFLE	COPY_MAP_DATA	54219000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5564115
+SHUFFLE	COMPRESS_BYTE_COUNT	1732960
+SHUFFLE	COPY_MAP_DATA	2781124000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1658977
+SHUFFLE	COMPRESS_BYTE_COUNT	517159
+SHUFFLE	COPY_MAP_DATA	29025000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4781154
+SHUFFLE	COMPRESS_BYTE_COUNT	1466939
+SHUFFLE	COPY_MAP_DATA	77954000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4424057
+SHUFFLE	COMPRESS_BYTE_COUNT	1375138
+SHUFFLE	COPY_MAP_DATA	106687000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5558072
+SHUFFLE	COMPRESS_BYTE_COUNT	1732140
+SHUFFLE	COPY_MAP_DATA	90892000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4445242
+SHUFFLE	COMPRESS_BYTE_COUNT	1382400
+SHUFFLE	COPY_MAP_DATA	90887000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4763067
+SHUFFLE	COMPRESS_BYTE_COUNT	1463165
+SHUFFLE	COPY_MAP_DATA	106080000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1664107
+SHUFFLE	COMPRESS_BYTE_COUNT	519426
+SHUFFLE	COPY_MAP_DATA	28490000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1741131
+SHUFFLE	COMPRESS_BYTE_COUNT	538181
+SHUFFLE	COPY_MAP_DATA	29857000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1736122
+SHUFFLE	COMPRESS_BYTE_COUNT	537153
+SHUFFLE	COPY_MAP_DATA	29717000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1740365
+SHUFFLE	COMPRESS_BYTE_COUNT	538158
+SHUFFLE	COPY_MAP_DATA	106252000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1743015
+SHUFFLE	COMPRESS_BYTE_COUNT	538507
+SHUFFLE	COPY_MAP_DATA	71309000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5544409
+SHUFFLE	COMPRESS_BYTE_COUNT	1726885
+SHUFFLE	COPY_MAP_DATA	90162000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4728752
+SHUFFLE	COMPRESS_BYTE_COUNT	1452040
+SHUFFLE	COPY_MAP_DATA	882807000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4779705
+SHUFFLE	COMPRESS_BYTE_COUNT	1466422
+SHUFFLE	COPY_MAP_DATA	232729000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4477353
+SHUFFLE	COMPRESS_BYTE_COUNT	1391582
+SHUFFLE	COPY_MAP_DATA	202958000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1733696
+SHUFFLE	COMPRESS_BYTE_COUNT	535919
+SHUFFLE	COPY_MAP_DATA	56677000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4749953
+SHUFFLE	COMPRESS_BYTE_COUNT	1457643
+SHUFFLE	COPY_MAP_DATA	85428000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4729969
+SHUFFLE	COMPRESS_BYTE_COUNT	1451958
+SHUFFLE	COPY_MAP_DATA	103434000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1665780
+SHUFFLE	COMPRESS_BYTE_COUNT	519742
+SHUFFLE	COPY_MAP_DATA	28360000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4109297
+SHUFFLE	COMPRESS_BYTE_COUNT	1295110
+SHUFFLE	COPY_MAP_DATA	67225000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1743384
+SHUFFLE	COMPRESS_BYTE_COUNT	539378
+SHUFFLE	COPY_MAP_DATA	28632000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1667243
+SHUFFLE	COMPRESS_BYTE_COUNT	519660
+SHUFFLE	COPY_MAP_DATA	29340000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4429945
+SHUFFLE	COMPRESS_BYTE_COUNT	1376222
+SHUFFLE	COPY_MAP_DATA	99949000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1658076
+SHUFFLE	COMPRESS_BYTE_COUNT	517866
+SHUFFLE	COPY_MAP_DATA	81646000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4240696
+SHUFFLE	COMPRESS_BYTE_COUNT	1318686
+SHUFFLE	COPY_MAP_DATA	172919000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1733716
+SHUFFLE	COMPRESS_BYTE_COUNT	536713
+SHUFFLE	COPY_MAP_DATA	53109000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1667429
+SHUFFLE	COMPRESS_BYTE_COUNT	520018
+SHUFFLE	COPY_MAP_DATA	47136000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1657606
+SHUFFLE	COMPRESS_BYTE_COUNT	517091
+SHUFFLE	COPY_MAP_DATA	29627000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1739772
+SHUFFLE	COMPRESS_BYTE_COUNT	538165
+SHUFFLE	COPY_MAP_DATA	48348000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1736306
+SHUFFLE	COMPRESS_BYTE_COUNT	536723
+SHUFFLE	COPY_MAP_DATA	112344000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1668097
+SHUFFLE	COMPRESS_BYTE_COUNT	520852
+SHUFFLE	COPY_MAP_DATA	30581000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1659980
+SHUFFLE	COMPRESS_BYTE_COUNT	518417
+SHUFFLE	COPY_MAP_DATA	38723000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1664358
+SHUFFLE	COMPRESS_BYTE_COUNT	519573
+SHUFFLE	COPY_MAP_DATA	49467000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1663200
+SHUFFLE	COMPRESS_BYTE_COUNT	518365
+SHUFFLE	COPY_MAP_DATA	232851000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4455368
+SHUFFLE	COMPRESS_BYTE_COUNT	1385336
+SHUFFLE	COPY_MAP_DATA	1048290000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1698048
+SHUFFLE	COMPRESS_BYTE_COUNT	525083
+SHUFFLE	COPY_MAP_DATA	29481000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1625116
+SHUFFLE	COMPRESS_BYTE_COUNT	507004
+SHUFFLE	COPY_MAP_DATA	38168000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1661724
+SHUFFLE	COMPRESS_BYTE_COUNT	518026
+SHUFFLE	COPY_MAP_DATA	48224000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1665590
+SHUFFLE	COMPRESS_BYTE_COUNT	519869
+SHUFFLE	COPY_MAP_DATA	26601000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4739276
+SHUFFLE	COMPRESS_BYTE_COUNT	1454932
+SHUFFLE	COPY_MAP_DATA	438660000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1666217
+SHUFFLE	COMPRESS_BYTE_COUNT	519910
+SHUFFLE	COPY_MAP_DATA	26140000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4455826
+SHUFFLE	COMPRESS_BYTE_COUNT	1384385
+SHUFFLE	COPY_MAP_DATA	1044531000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1586727
+SHUFFLE	COMPRESS_BYTE_COUNT	500405
+SHUFFLE	COPY_MAP_DATA	33153000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4572295
+SHUFFLE	COMPRESS_BYTE_COUNT	1404030
+SHUFFLE	COPY_MAP_DATA	117677000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4414227
+SHUFFLE	COMPRESS_BYTE_COUNT	1372401
+SHUFFLE	COPY_MAP_DATA	68961000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	518832306778
+MERGE	READ_WRITE	511680442778
+MERGE	READ_WRITE_COUNT	8
+MERGE	COMBINE	0
+MERGE	WRITE	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	11791912000
+SORT	READ_WRITE	10606648000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	186774224
+REDUCE	SETUP	512000
+REDUCE	SETUP_MEM	186774224
+REDUCE	CLEANUP	46000
+REDUCE	CLEANUP_MEM	191717528
+REDUCE	TOTAL_RUN	884255883087
+REDUCE	READ	87573500040
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	783911326311
+REDUCE	WRITE	294352987210
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	55907854
+REDUCE	VALUE_BYTE_COUNT	1648446109
+REDUCE	REDUCE_MEM	191717528
+REDUCE	WRITE	66414000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	1594417346998
@@ -0,0 +1,989 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5523837
+SHUFFLE	COMPRESS_BYTE_COUNT	1739082
+SHUFFLE	COPY_MAP_DATA	279484000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5519204
+SHUFFLE	COMPRESS_BYTE_COUNT	1716283
+SHUFFLE	COPY_MAP_DATA	249727000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5515149
+SHUFFLE	COMPRESS_BYTE_COUNT	1714449
+SHUFFLE	COPY_MAP_DATA	506526000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5522434
+SHUFFLE	COMPRESS_BYTE_COUNT	1716703
+SHUFFLE	COPY_MAP_DATA	172325000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5438388
+SHUFFLE	COMPRESS_BYTE_COUNT	1691029
+SHUFFLE	COPY_MAP_DATA	139203000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5497097
+SHUFFLE	COMPRESS_BYTE_COUNT	1707073
+SHUFFLE	COPY_MAP_DATA	275729000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5455348
+SHUFFLE	COMPRESS_BYTE_COUNT	1717021
+SHUFFLE	COPY_MAP_DATA	125000000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5541307
+SHUFFLE	COMPRESS_BYTE_COUNT	1722880
+SHUFFLE	COPY_MAP_DATA	233747000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5502698
+SHUFFLE	COMPRESS_BYTE_COUNT	1711494
+SHUFFLE	COPY_MAP_DATA	327159000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5551522
+SHUFFLE	COMPRESS_BYTE_COUNT	1724713
+SHUFFLE	COPY_MAP_DATA	315468000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5532004
+SHUFFLE	COMPRESS_BYTE_COUNT	1718151
+SHUFFLE	COPY_MAP_DATA	151660000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5495952
+SHUFFLE	COMPRESS_BYTE_COUNT	1708027
+SHUFFLE	COPY_MAP_DATA	130328000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5495704
+SHUFFLE	COMPRESS_BYTE_COUNT	1709140
+SHUFFLE	COPY_MAP_DATA	143654000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5517972
+SHUFFLE	COMPRESS_BYTE_COUNT	1715656
+SHUFFLE	COPY_MAP_DATA	225178000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5477230
+SHUFFLE	COMPRESS_BYTE_COUNT	1702146
+SHUFFLE	COPY_MAP_DATA	321380000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5539976
+SHUFFLE	COMPRESS_BYTE_COUNT	1721217
+SHUFFLE	COPY_MAP_DATA	165547000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5499083
+SHUFFLE	COMPRESS_BYTE_COUNT	1710866
+SHUFFLE	COPY_MAP_DATA	98235000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5439574
+SHUFFLE	COMPRESS_BYTE_COUNT	1712790
+SHUFFLE	COPY_MAP_DATA	109396000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5524772
+SHUFFLE	COMPRESS_BYTE_COUNT	1717208
+SHUFFLE	COPY_MAP_DATA	298913000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5474374
+SHUFFLE	COMPRESS_BYTE_COUNT	1724957
+SHUFFLE	COPY_MAP_DATA	1315222000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5586872
+SHUFFLE	COMPRESS_BYTE_COUNT	1736144
+SHUFFLE	COPY_MAP_DATA	361389000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5469218
+SHUFFLE	COMPRESS_BYTE_COUNT	1700726
+SHUFFLE	COPY_MAP_DATA	248219000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5529287
+SHUFFLE	COMPRESS_BYTE_COUNT	1717941
+SHUFFLE	COPY_MAP_DATA	3178327000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5541986
+SHUFFLE	COMPRESS_BYTE_COUNT	1722570
+SHUFFLE	COPY_MAP_DATA	193717000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5539719
+SHUFFLE	COMPRESS_BYTE_COUNT	1721742
+SHUFFLE	COPY_MAP_DATA	295550000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5505806
+SHUFFLE	COMPRESS_BYTE_COUNT	1710303
+SHUFFLE	COPY_MAP_DATA	922499000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5502838
+SHUFFLE	COMPRESS_BYTE_COUNT	1710483
+SHUFFLE	COPY_MAP_DATA	273908000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5535370
+SHUFFLE	COMPRESS_BYTE_COUNT	1720388
+SHUFFLE	COPY_MAP_DATA	2839073000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5577681
+SHUFFLE	COMPRESS_BYTE_COUNT	1712626
+SHUFFLE	COPY_MAP_DATA	87283000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5448748
+SHUFFLE	COMPRESS_BYTE_COUNT	1742548
+SHUFFLE	COPY_MAP_DATA	341882000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5494079
+SHUFFLE	COMPRESS_BYTE_COUNT	1707460
+SHUFFLE	COPY_MAP_DATA	377878000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5523927
+SHUFFLE	COMPRESS_BYTE_COUNT	1695519
+SHUFFLE	COPY_MAP_DATA	254250000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5535080
+SHUFFLE	COMPRESS_BYTE_COUNT	1699090
+SHUFFLE	COPY_MAP_DATA	178462000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5511828
+SHUFFLE	COMPRESS_BYTE_COUNT	1713605
+SHUFFLE	COPY_MAP_DATA	111660000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5527905
+SHUFFLE	COMPRESS_BYTE_COUNT	1696423
+SHUFFLE	COPY_MAP_DATA	139620000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5568870
+SHUFFLE	COMPRESS_BYTE_COUNT	1730669
+SHUFFLE	COPY_MAP_DATA	471609000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5538774
+SHUFFLE	COMPRESS_BYTE_COUNT	1721685
+SHUFFLE	COPY_MAP_DATA	131144000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5517075
+SHUFFLE	COMPRESS_BYTE_COUNT	1714852
+SHUFFLE	COPY_MAP_DATA	178067000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5625842
+SHUFFLE	COMPRESS_BYTE_COUNT	1727972
+SHUFFLE	COPY_MAP_DATA	128246000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5509390
+SHUFFLE	COMPRESS_BYTE_COUNT	1712214
+SHUFFLE	COPY_MAP_DATA	187640000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5564989
+SHUFFLE	COMPRESS_BYTE_COUNT	1708405
+SHUFFLE	COPY_MAP_DATA	389508000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5503191
+SHUFFLE	COMPRESS_BYTE_COUNT	1711540
+SHUFFLE	COPY_MAP_DATA	86838000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5474449
+SHUFFLE	COMPRESS_BYTE_COUNT	1701359
+SHUFFLE	COPY_MAP_DATA	127358000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5495627
+SHUFFLE	COMPRESS_BYTE_COUNT	1707585
+SHUFFLE	COPY_MAP_DATA	92325000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5501327
+SHUFFLE	COMPRESS_BYTE_COUNT	1709018
+SHUFFLE	COPY_MAP_DATA	120697000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5520786
+SHUFFLE	COMPRESS_BYTE_COUNT	1715183
+SHUFFLE	COPY_MAP_DATA	945969000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5424972
+SHUFFLE	COMPRESS_BYTE_COUNT	1708242
+SHUFFLE	COPY_MAP_DATA	108389000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5559499
+SHUFFLE	COMPRESS_BYTE_COUNT	1706929
+SHUFFLE	COPY_MAP_DATA	264666000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5558442
+SHUFFLE	COMPRESS_BYTE_COUNT	1705529
+SHUFFLE	COPY_MAP_DATA	388314000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5543991
+SHUFFLE	COMPRESS_BYTE_COUNT	1702416
+SHUFFLE	COPY_MAP_DATA	388249000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5529979
+SHUFFLE	COMPRESS_BYTE_COUNT	1718199
+SHUFFLE	COPY_MAP_DATA	331836000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5591840
+SHUFFLE	COMPRESS_BYTE_COUNT	1714643
+SHUFFLE	COPY_MAP_DATA	166036000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5502519
+SHUFFLE	COMPRESS_BYTE_COUNT	1710750
+SHUFFLE	COPY_MAP_DATA	6840610524
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5500454
+SHUFFLE	COMPRESS_BYTE_COUNT	1709526
+SHUFFLE	COPY_MAP_DATA	118989000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5591576
+SHUFFLE	COMPRESS_BYTE_COUNT	1716992
+SHUFFLE	COPY_MAP_DATA	89061000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5506158
+SHUFFLE	COMPRESS_BYTE_COUNT	1708674
+SHUFFLE	COPY_MAP_DATA	662136000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5518290
+SHUFFLE	COMPRESS_BYTE_COUNT	1715099
+SHUFFLE	COPY_MAP_DATA	705787000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5525149
+SHUFFLE	COMPRESS_BYTE_COUNT	1695336
+SHUFFLE	COPY_MAP_DATA	90072000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5553176
+SHUFFLE	COMPRESS_BYTE_COUNT	1705073
+SHUFFLE	COPY_MAP_DATA	190457000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5544471
+SHUFFLE	COMPRESS_BYTE_COUNT	1702268
+SHUFFLE	COPY_MAP_DATA	190924000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5507986
+SHUFFLE	COMPRESS_BYTE_COUNT	1690356
+SHUFFLE	COPY_MAP_DATA	94473000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5496111
+SHUFFLE	COMPRESS_BYTE_COUNT	1687169
+SHUFFLE	COPY_MAP_DATA	88583000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5521620
+SHUFFLE	COMPRESS_BYTE_COUNT	1740393
+SHUFFLE	COPY_MAP_DATA	91306000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5538222
+SHUFFLE	COMPRESS_BYTE_COUNT	1699754
+SHUFFLE	COPY_MAP_DATA	90318000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5535554
+SHUFFLE	COMPRESS_BYTE_COUNT	1699736
+SHUFFLE	COPY_MAP_DATA	116621000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5482147
+SHUFFLE	COMPRESS_BYTE_COUNT	1726127
+SHUFFLE	COPY_MAP_DATA	232650000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5597733
+SHUFFLE	COMPRESS_BYTE_COUNT	1716942
+SHUFFLE	COPY_MAP_DATA	958864000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5556074
+SHUFFLE	COMPRESS_BYTE_COUNT	1705336
+SHUFFLE	COPY_MAP_DATA	199717000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5525376
+SHUFFLE	COMPRESS_BYTE_COUNT	1695726
+SHUFFLE	COPY_MAP_DATA	373804000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5494694
+SHUFFLE	COMPRESS_BYTE_COUNT	1687251
+SHUFFLE	COPY_MAP_DATA	373551000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5531225
+SHUFFLE	COMPRESS_BYTE_COUNT	1698644
+SHUFFLE	COPY_MAP_DATA	115160000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5510620
+SHUFFLE	COMPRESS_BYTE_COUNT	1691476
+SHUFFLE	COPY_MAP_DATA	1302929000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5504362
+SHUFFLE	COMPRESS_BYTE_COUNT	1688936
+SHUFFLE	COPY_MAP_DATA	266997000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5538584
+SHUFFLE	COMPRESS_BYTE_COUNT	1700022
+SHUFFLE	COPY_MAP_DATA	176159000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5580838
+SHUFFLE	COMPRESS_BYTE_COUNT	1712924
+SHUFFLE	COPY_MAP_DATA	494565000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5572096
+SHUFFLE	COMPRESS_BYTE_COUNT	1710344
+SHUFFLE	COPY_MAP_DATA	307451000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5510916
+SHUFFLE	COMPRESS_BYTE_COUNT	1691960
+SHUFFLE	COPY_MAP_DATA	2336547000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5565707
+SHUFFLE	COMPRESS_BYTE_COUNT	1707739
+SHUFFLE	COPY_MAP_DATA	161752000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5540652
+SHUFFLE	COMPRESS_BYTE_COUNT	1741265
+SHUFFLE	COPY_MAP_DATA	148670000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5596417
+SHUFFLE	COMPRESS_BYTE_COUNT	1717743
+SHUFFLE	COPY_MAP_DATA	87038000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5562910
+SHUFFLE	COMPRESS_BYTE_COUNT	1706937
+SHUFFLE	COPY_MAP_DATA	267895000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5546765
+SHUFFLE	COMPRESS_BYTE_COUNT	1704254
+SHUFFLE	COPY_MAP_DATA	223963000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5527618
+SHUFFLE	COMPRESS_BYTE_COUNT	1696442
+SHUFFLE	COPY_MAP_DATA	927169000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5531104
+SHUFFLE	COMPRESS_BYTE_COUNT	1697628
+SHUFFLE	COPY_MAP_DATA	252932000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5626259
+SHUFFLE	COMPRESS_BYTE_COUNT	1726023
+SHUFFLE	COPY_MAP_DATA	1721472000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5482265
+SHUFFLE	COMPRESS_BYTE_COUNT	1682174
+SHUFFLE	COPY_MAP_DATA	6145166000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5551418
+SHUFFLE	COMPRESS_BYTE_COUNT	1705617
+SHUFFLE	COPY_MAP_DATA	96047000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5563223
+SHUFFLE	COMPRESS_BYTE_COUNT	1709266
+SHUFFLE	COPY_MAP_DATA	111452000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5485138
+SHUFFLE	COMPRESS_BYTE_COUNT	1684748
+SHUFFLE	COPY_MAP_DATA	86565000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5538640
+SHUFFLE	COMPRESS_BYTE_COUNT	1700684
+SHUFFLE	COPY_MAP_DATA	443659000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5577102
+SHUFFLE	COMPRESS_BYTE_COUNT	1712552
+SHUFFLE	COPY_MAP_DATA	1380804000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5532880
+SHUFFLE	COMPRESS_BYTE_COUNT	1698082
+SHUFFLE	COPY_MAP_DATA	244998000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5542190
+SHUFFLE	COMPRESS_BYTE_COUNT	1702112
+SHUFFLE	COPY_MAP_DATA	107393000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5554059
+SHUFFLE	COMPRESS_BYTE_COUNT	1704143
+SHUFFLE	COPY_MAP_DATA	230352000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5509217
+SHUFFLE	COMPRESS_BYTE_COUNT	1691054
+SHUFFLE	COPY_MAP_DATA	303793000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5522067
+SHUFFLE	COMPRESS_BYTE_COUNT	1694899
+SHUFFLE	COPY_MAP_DATA	220439000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5555976
+SHUFFLE	COMPRESS_BYTE_COUNT	1726330
+SHUFFLE	COPY_MAP_DATA	405497000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5521104
+SHUFFLE	COMPRESS_BYTE_COUNT	1714879
+SHUFFLE	COPY_MAP_DATA	247791000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5515834
+SHUFFLE	COMPRESS_BYTE_COUNT	1693516
+SHUFFLE	COPY_MAP_DATA	221052000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5565348
+SHUFFLE	COMPRESS_BYTE_COUNT	1708796
+SHUFFLE	COPY_MAP_DATA	205153000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5519065
+SHUFFLE	COMPRESS_BYTE_COUNT	1715652
+SHUFFLE	COPY_MAP_DATA	168474000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5552688
+SHUFFLE	COMPRESS_BYTE_COUNT	1704696
+SHUFFLE	COPY_MAP_DATA	1432710000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5546025
+SHUFFLE	COMPRESS_BYTE_COUNT	1703150
+SHUFFLE	COPY_MAP_DATA	1726607000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5563498
+SHUFFLE	COMPRESS_BYTE_COUNT	1707607
+SHUFFLE	COPY_MAP_DATA	218569000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5519733
+SHUFFLE	COMPRESS_BYTE_COUNT	1695523
+SHUFFLE	COPY_MAP_DATA	185276000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5562126
+SHUFFLE	COMPRESS_BYTE_COUNT	1707616
+SHUFFLE	COPY_MAP_DATA	88754000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5546728
+SHUFFLE	COMPRESS_BYTE_COUNT	1702779
+SHUFFLE	COPY_MAP_DATA	233798000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5538584
+SHUFFLE	COMPRESS_BYTE_COUNT	1722324
+SHUFFLE	COPY_MAP_DATA	163882000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5543893
+SHUFFLE	COMPRESS_BYTE_COUNT	1702817
+SHUFFLE	COPY_MAP_DATA	8908402000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5576741
+SHUFFLE	COMPRESS_BYTE_COUNT	1711663
+SHUFFLE	COPY_MAP_DATA	215024000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5545406
+SHUFFLE	COMPRESS_BYTE_COUNT	1702901
+SHUFFLE	COPY_MAP_DATA	258595000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5572778
+SHUFFLE	COMPRESS_BYTE_COUNT	1710598
+SHUFFLE	COPY_MAP_DATA	1233356000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5560261
+SHUFFLE	COMPRESS_BYTE_COUNT	1707758
+SHUFFLE	COPY_MAP_DATA	2390072000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5513202
+SHUFFLE	COMPRESS_BYTE_COUNT	1691687
+SHUFFLE	COPY_MAP_DATA	97239000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5559327
+SHUFFLE	COMPRESS_BYTE_COUNT	1705194
+SHUFFLE	COPY_MAP_DATA	1150493000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5522942
+SHUFFLE	COMPRESS_BYTE_COUNT	1696068
+SHUFFLE	COPY_MAP_DATA	508191000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5517367
+SHUFFLE	COMPRESS_BYTE_COUNT	1714654
+SHUFFLE	COPY_MAP_DATA	109240000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5503553
+SHUFFLE	COMPRESS_BYTE_COUNT	1711109
+SHUFFLE	COPY_MAP_DATA	3682606000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5537503
+SHUFFLE	COMPRESS_BYTE_COUNT	1720976
+SHUFFLE	COPY_MAP_DATA	271610000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5493202
+SHUFFLE	COMPRESS_BYTE_COUNT	1707672
+SHUFFLE	COPY_MAP_DATA	121333000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5522923
+SHUFFLE	COMPRESS_BYTE_COUNT	1696126
+SHUFFLE	COPY_MAP_DATA	1671787000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5512561
+SHUFFLE	COMPRESS_BYTE_COUNT	1713192
+SHUFFLE	COPY_MAP_DATA	329427000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5491078
+SHUFFLE	COMPRESS_BYTE_COUNT	1707137
+SHUFFLE	COPY_MAP_DATA	148443000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5551947
+SHUFFLE	COMPRESS_BYTE_COUNT	1726145
+SHUFFLE	COPY_MAP_DATA	864325000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5543053
+SHUFFLE	COMPRESS_BYTE_COUNT	1723250
+SHUFFLE	COPY_MAP_DATA	474883000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5483795
+SHUFFLE	COMPRESS_BYTE_COUNT	1704386
+SHUFFLE	COPY_MAP_DATA	176462000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5537350
+SHUFFLE	COMPRESS_BYTE_COUNT	1720312
+SHUFFLE	COPY_MAP_DATA	85640000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5626718
+SHUFFLE	COMPRESS_BYTE_COUNT	1747924
+SHUFFLE	COPY_MAP_DATA	425750000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5484052
+SHUFFLE	COMPRESS_BYTE_COUNT	1703716
+SHUFFLE	COPY_MAP_DATA	149214000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5479356
+SHUFFLE	COMPRESS_BYTE_COUNT	1702825
+SHUFFLE	COPY_MAP_DATA	196121000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5548052
+SHUFFLE	COMPRESS_BYTE_COUNT	1703018
+SHUFFLE	COPY_MAP_DATA	94541000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5534494
+SHUFFLE	COMPRESS_BYTE_COUNT	1719094
+SHUFFLE	COPY_MAP_DATA	128604000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5551301
+SHUFFLE	COMPRESS_BYTE_COUNT	1702672
+SHUFFLE	COPY_MAP_DATA	155265000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5481521
+SHUFFLE	COMPRESS_BYTE_COUNT	1703300
+SHUFFLE	COPY_MAP_DATA	86924000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5491249
+SHUFFLE	COMPRESS_BYTE_COUNT	1706734
+SHUFFLE	COPY_MAP_DATA	187103000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5496209
+SHUFFLE	COMPRESS_BYTE_COUNT	1709281
+SHUFFLE	COPY_MAP_DATA	717266000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5538426
+SHUFFLE	COMPRESS_BYTE_COUNT	1720436
+SHUFFLE	COPY_MAP_DATA	264248000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5526264
+SHUFFLE	COMPRESS_BYTE_COUNT	1716637
+SHUFFLE	COPY_MAP_DATA	9073966000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5577654
+SHUFFLE	COMPRESS_BYTE_COUNT	1733088
+SHUFFLE	COPY_MAP_DATA	353015000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5468454
+SHUFFLE	COMPRESS_BYTE_COUNT	1699127
+SHUFFLE	COPY_MAP_DATA	371974000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5517462
+SHUFFLE	COMPRESS_BYTE_COUNT	1714871
+SHUFFLE	COPY_MAP_DATA	174173000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5469299
+SHUFFLE	COMPRESS_BYTE_COUNT	1701203
+SHUFFLE	COPY_MAP_DATA	824540000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5528025
+SHUFFLE	COMPRESS_BYTE_COUNT	1719374
+SHUFFLE	COPY_MAP_DATA	353679000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5509247
+SHUFFLE	COMPRESS_BYTE_COUNT	1711730
+SHUFFLE	COPY_MAP_DATA	686624000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5484010
+SHUFFLE	COMPRESS_BYTE_COUNT	1704913
+SHUFFLE	COPY_MAP_DATA	153670000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5509690
+SHUFFLE	COMPRESS_BYTE_COUNT	1711882
+SHUFFLE	COPY_MAP_DATA	114365000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5509298
+SHUFFLE	COMPRESS_BYTE_COUNT	1713035
+SHUFFLE	COPY_MAP_DATA	128911000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5547423
+SHUFFLE	COMPRESS_BYTE_COUNT	1728197
+SHUFFLE	COPY_MAP_DATA	152481000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5570661
+SHUFFLE	COMPRESS_BYTE_COUNT	1734547
+SHUFFLE	COPY_MAP_DATA	861037000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5550829
+SHUFFLE	COMPRESS_BYTE_COUNT	1727773
+SHUFFLE	COPY_MAP_DATA	247783000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5527083
+SHUFFLE	COMPRESS_BYTE_COUNT	1716849
+SHUFFLE	COPY_MAP_DATA	90071000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5598670
+SHUFFLE	COMPRESS_BYTE_COUNT	1728786
+SHUFFLE	COPY_MAP_DATA	109784000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5550455
+SHUFFLE	COMPRESS_BYTE_COUNT	1729180
+SHUFFLE	COPY_MAP_DATA	96984000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5587419
+SHUFFLE	COMPRESS_BYTE_COUNT	1724162
+SHUFFLE	COPY_MAP_DATA	208780000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5542946
+SHUFFLE	COMPRESS_BYTE_COUNT	1726407
+SHUFFLE	COPY_MAP_DATA	186358000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5568587
+SHUFFLE	COMPRESS_BYTE_COUNT	1735498
+SHUFFLE	COPY_MAP_DATA	93637000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5597748
+SHUFFLE	COMPRESS_BYTE_COUNT	1728823
+SHUFFLE	COPY_MAP_DATA	140726000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5546550
+SHUFFLE	COMPRESS_BYTE_COUNT	1727996
+SHUFFLE	COPY_MAP_DATA	97045000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5588867
+SHUFFLE	COMPRESS_BYTE_COUNT	1725514
+SHUFFLE	COPY_MAP_DATA	95632000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5537084
+SHUFFLE	COMPRESS_BYTE_COUNT	1720555
+SHUFFLE	COPY_MAP_DATA	96872000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5525839
+SHUFFLE	COMPRESS_BYTE_COUNT	1718061
+SHUFFLE	COPY_MAP_DATA	1345712000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4704109
+SHUFFLE	COMPRESS_BYTE_COUNT	1443284
+SHUFFLE	COPY_MAP_DATA	86707000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5554881
+SHUFFLE	COMPRESS_BYTE_COUNT	1729894
+SHUFFLE	COPY_MAP_DATA	123814000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5588311
+SHUFFLE	COMPRESS_BYTE_COUNT	1725648
+SHUFFLE	COPY_MAP_DATA	895621371
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4409404
+SHUFFLE	COMPRESS_BYTE_COUNT	1370473
+SHUFFLE	COPY_MAP_DATA	186756000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4468267
+SHUFFLE	COMPRESS_BYTE_COUNT	1388622
+SHUFFLE	COPY_MAP_DATA	90948000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4739831
+SHUFFLE	COMPRESS_BYTE_COUNT	1454813
+SHUFFLE	COPY_MAP_DATA	155077000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4751512
+SHUFFLE	COMPRESS_BYTE_COUNT	1458110
+SHUFFLE	COPY_MAP_DATA	537871000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5585944
+SHUFFLE	COMPRESS_BYTE_COUNT	1724164
+SHUFFLE	COPY_MAP_DATA	106551000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5591726
+SHUFFLE	COMPRESS_BYTE_COUNT	1725878
+SHUFFLE	COPY_MAP_DATA	84215000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5598775
+SHUFFLE	COMPRESS_BYTE_COUNT	1727766
+SHUFFLE	COPY_MAP_DATA	231122000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5518292
+SHUFFLE	COMPRESS_BYTE_COUNT	1736607
+SHUFFLE	COPY_MAP_DATA	395054000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5556635
+SHUFFLE	COMPRESS_BYTE_COUNT	1730209
+SHUFFLE	COPY_MAP_DATA	256588000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5587718
+SHUFFLE	COMPRESS_BYTE_COUNT	1724895
+SHUFFLE	COPY_MAP_DATA	620777000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5552040
+SHUFFLE	COMPRESS_BYTE_COUNT	1729682
+SHUFFLE	COPY_MAP_DATA	183906000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4480310
+SHUFFLE	COMPRESS_BYTE_COUNT	1392738
+SHUFFLE	COPY_MAP_DATA	103699000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4480949
+SHUFFLE	COMPRESS_BYTE_COUNT	1393376
+SHUFFLE	COPY_MAP_DATA	69149000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5509364
+SHUFFLE	COMPRESS_BYTE_COUNT	1746608
+SHUFFLE	COPY_MAP_DATA	169245000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1731896
+SHUFFLE	COMPRESS_BYTE_COUNT	536248
+SHUFFLE	COPY_MAP_DATA	27937000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5595306
+SHUFFLE	COMPRESS_BYTE_COUNT	1727365
+SHUFFLE	COPY_MAP_DATA	113799000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5593740
+SHUFFLE	COMPRESS_BYTE_COUNT	1726025
+SHUFFLE	COPY_MAP_DATA	253308000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5593117
+SHUFFLE	COMPRESS_BYTE_COUNT	1726319
+SHUFFLE	COPY_MAP_DATA	266757000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5544316
+SHUFFLE	COMPRESS_BYTE_COUNT	1727449
+SHUFFLE	COPY_MAP_DATA	286998000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5599135
+SHUFFLE	COMPRESS_BYTE_COUNT	1728483
+SHUFFLE	COPY_MAP_DATA	86996000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1740922
+SHUFFLE	COMPRESS_BYTE_COUNT	538059
+SHUFFLE	COPY_MAP_DATA	29272000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4725671
+SHUFFLE	COMPRESS_BYTE_COUNT	1450196
+SHUFFLE	COPY_MAP_DATA	89326000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4712365
+SHUFFLE	COMPRESS_BYTE_COUNT	1447249
+SHUFFLE	COPY_MAP_DATA	148509000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4754954
+SHUFFLE	COMPRESS_BYTE_COUNT	1459292
+SHUFFLE	COPY_MAP_DATA	74363000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4440226
+SHUFFLE	COMPRESS_BYTE_COUNT	1380557
+SHUFFLE	COPY_MAP_DATA	109244000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5561785
+SHUFFLE	COMPRESS_BYTE_COUNT	1731821
+SHUFFLE	COPY_MAP_DATA	925707000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4400399
+SHUFFLE	COMPRESS_BYTE_COUNT	1367932
+SHUFFLE	COPY_MAP_DATA	163527000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1738682
+SHUFFLE	COMPRESS_BYTE_COUNT	538236
+SHUFFLE	COPY_MAP_DATA	29882000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4399866
+SHUFFLE	COMPRESS_BYTE_COUNT	1369192
+SHUFFLE	COPY_MAP_DATA	70326000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5558484
+SHUFFLE	COMPRESS_BYTE_COUNT	1731886
+SHUFFLE	COPY_MAP_DATA	128169000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1656913
+SHUFFLE	COMPRESS_BYTE_COUNT	516950
+SHUFFLE	COPY_MAP_DATA	93728000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4756563
+SHUFFLE	COMPRESS_BYTE_COUNT	1459586
+SHUFFLE	COPY_MAP_DATA	130245000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1745041
+SHUFFLE	COMPRESS_BYTE_COUNT	539136
+SHUFFLE	COPY_MAP_DATA	44917000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4442980
+SHUFFLE	COMPRESS_BYTE_COUNT	1381055
+SHUFFLE	COPY_MAP_DATA	168684000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4430465
+SHUFFLE	COMPRESS_BYTE_COUNT	1376976
+SHUFFLE	COPY_MAP_DATA	130498000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5567764
+SHUFFLE	COMPRESS_BYTE_COUNT	1734709
+SHUFFLE	COPY_MAP_DATA	126612000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4757553
+SHUFFLE	COMPRESS_BYTE_COUNT	1461187
+SHUFFLE	COPY_MAP_DATA	96654000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1664239
+SHUFFLE	COMPRESS_BYTE_COUNT	519779
+SHUFFLE	COPY_MAP_DATA	205783000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1739664
+SHUFFLE	COMPRESS_BYTE_COUNT	538043
+SHUFFLE	COPY_MAP_DATA	31969000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5547472
+SHUFFLE	COMPRESS_BYTE_COUNT	1727150
+SHUFFLE	COPY_MAP_DATA	110968000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1741064
+SHUFFLE	COMPRESS_BYTE_COUNT	538388
+SHUFFLE	COPY_MAP_DATA	30746000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1736842
+SHUFFLE	COMPRESS_BYTE_COUNT	536900
+SHUFFLE	COPY_MAP_DATA	29148000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4732899
+SHUFFLE	COMPRESS_BYTE_COUNT	1452540
+SHUFFLE	COPY_MAP_DATA	95391000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1739073
+SHUFFLE	COMPRESS_BYTE_COUNT	537197
+SHUFFLE	COPY_MAP_DATA	29955000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4733508
+SHUFFLE	COMPRESS_BYTE_COUNT	1452738
+SHUFFLE	COPY_MAP_DATA	126289000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1739017
+SHUFFLE	COMPRESS_BYTE_COUNT	538049
+SHUFFLE	COPY_MAP_DATA	119826000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4781738
+SHUFFLE	COMPRESS_BYTE_COUNT	1469012
+SHUFFLE	COPY_MAP_DATA	501751000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4739283
+SHUFFLE	COMPRESS_BYTE_COUNT	1454974
+SHUFFLE	COPY_MAP_DATA	598520000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4477226
+SHUFFLE	COMPRESS_BYTE_COUNT	1391712
+SHUFFLE	COPY_MAP_DATA	163475000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1738720
+SHUFFLE	COMPRESS_BYTE_COUNT	537676
+SHUFFLE	COPY_MAP_DATA	47220000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4172831
+SHUFFLE	COMPRESS_BYTE_COUNT	1314001
+SHUFFLE	COPY_MAP_DATA	1086404000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1667304
+SHUFFLE	COMPRESS_BYTE_COUNT	520291
+SHUFFLE	COPY_MAP_DATA	30638000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1662041
+SHUFFLE	COMPRESS_BYTE_COUNT	518093
+SHUFFLE	COPY_MAP_DATA	101190000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4445771
+SHUFFLE	COMPRESS_BYTE_COUNT	1381939
+SHUFFLE	COPY_MAP_DATA	721266000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1659654
+SHUFFLE	COMPRESS_BYTE_COUNT	517393
+SHUFFLE	COPY_MAP_DATA	49717000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1741138
+SHUFFLE	COMPRESS_BYTE_COUNT	538526
+SHUFFLE	COPY_MAP_DATA	138126000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1669653
+SHUFFLE	COMPRESS_BYTE_COUNT	520984
+SHUFFLE	COPY_MAP_DATA	104844000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1739039
+SHUFFLE	COMPRESS_BYTE_COUNT	537189
+SHUFFLE	COPY_MAP_DATA	30754000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4299307
+SHUFFLE	COMPRESS_BYTE_COUNT	1336532
+SHUFFLE	COPY_MAP_DATA	73623000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1664927
+SHUFFLE	COMPRESS_BYTE_COUNT	519693
+SHUFFLE	COPY_MAP_DATA	29734000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1742577
+SHUFFLE	COMPRESS_BYTE_COUNT	537978
+SHUFFLE	COPY_MAP_DATA	590832000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1667880
+SHUFFLE	COMPRESS_BYTE_COUNT	520348
+SHUFFLE	COPY_MAP_DATA	30332000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1668512
+SHUFFLE	COMPRESS_BYTE_COUNT	520515
+SHUFFLE	COPY_MAP_DATA	29266000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1659678
+SHUFFLE	COMPRESS_BYTE_COUNT	517606
+SHUFFLE	COPY_MAP_DATA	28709000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4423235
+SHUFFLE	COMPRESS_BYTE_COUNT	1374468
+SHUFFLE	COPY_MAP_DATA	110542000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1699082
+SHUFFLE	COMPRESS_BYTE_COUNT	525429
+SHUFFLE	COPY_MAP_DATA	30906000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1623360
+SHUFFLE	COMPRESS_BYTE_COUNT	507200
+SHUFFLE	COPY_MAP_DATA	29702000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1659994
+SHUFFLE	COMPRESS_BYTE_COUNT	517633
+SHUFFLE	COPY_MAP_DATA	31299000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1659817
+SHUFFLE	COMPRESS_BYTE_COUNT	518330
+SHUFFLE	COPY_MAP_DATA	34463000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4687560
+SHUFFLE	COMPRESS_BYTE_COUNT	1439877
+SHUFFLE	COPY_MAP_DATA	722242000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1663014
+SHUFFLE	COMPRESS_BYTE_COUNT	518672
+SHUFFLE	COPY_MAP_DATA	40012000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1666593
+SHUFFLE	COMPRESS_BYTE_COUNT	519698
+SHUFFLE	COPY_MAP_DATA	28960000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4437677
+SHUFFLE	COMPRESS_BYTE_COUNT	1379318
+SHUFFLE	COPY_MAP_DATA	270628000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1581691
+SHUFFLE	COMPRESS_BYTE_COUNT	499774
+SHUFFLE	COPY_MAP_DATA	252168000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4529376
+SHUFFLE	COMPRESS_BYTE_COUNT	1389589
+SHUFFLE	COPY_MAP_DATA	265282000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4438983
+SHUFFLE	COMPRESS_BYTE_COUNT	1380742
+SHUFFLE	COPY_MAP_DATA	348657000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	446670664161
+MERGE	READ_WRITE	437536560161
+MERGE	READ_WRITE_COUNT	8
+MERGE	COMBINE	0
+MERGE	WRITE	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	12459878000
+SORT	READ_WRITE	12245701000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	136476376
+REDUCE	SETUP	5581000
+REDUCE	SETUP_MEM	136662808
+REDUCE	CLEANUP	37000
+REDUCE	CLEANUP_MEM	90372528
+REDUCE	TOTAL_RUN	638540730392
+REDUCE	READ	20376424325
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	605179529717
+REDUCE	WRITE	381077717254
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	55880089
+REDUCE	VALUE_BYTE_COUNT	1647682903
+REDUCE	REDUCE_MEM	90372528
+REDUCE	WRITE	672615000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	1351434293750
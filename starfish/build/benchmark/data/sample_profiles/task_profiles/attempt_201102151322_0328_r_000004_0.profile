@@ -0,0 +1,989 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5501983
+SHUFFLE	COMPRESS_BYTE_COUNT	1731976
+SHUFFLE	COPY_MAP_DATA	232238000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5530303
+SHUFFLE	COMPRESS_BYTE_COUNT	1719670
+SHUFFLE	COPY_MAP_DATA	156675000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5511431
+SHUFFLE	COMPRESS_BYTE_COUNT	1712854
+SHUFFLE	COPY_MAP_DATA	213208000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5496267
+SHUFFLE	COMPRESS_BYTE_COUNT	1709216
+SHUFFLE	COPY_MAP_DATA	1379769000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5533030
+SHUFFLE	COMPRESS_BYTE_COUNT	1719196
+SHUFFLE	COPY_MAP_DATA	126967000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5507011
+SHUFFLE	COMPRESS_BYTE_COUNT	1712115
+SHUFFLE	COPY_MAP_DATA	96156000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5480983
+SHUFFLE	COMPRESS_BYTE_COUNT	1704220
+SHUFFLE	COPY_MAP_DATA	219727000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5520138
+SHUFFLE	COMPRESS_BYTE_COUNT	1716799
+SHUFFLE	COPY_MAP_DATA	199279000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5526941
+SHUFFLE	COMPRESS_BYTE_COUNT	1717307
+SHUFFLE	COPY_MAP_DATA	311369000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5546254
+SHUFFLE	COMPRESS_BYTE_COUNT	1723037
+SHUFFLE	COPY_MAP_DATA	104363000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5491535
+SHUFFLE	COMPRESS_BYTE_COUNT	1728807
+SHUFFLE	COPY_MAP_DATA	111810000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5528666
+SHUFFLE	COMPRESS_BYTE_COUNT	1718663
+SHUFFLE	COPY_MAP_DATA	102168000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5576717
+SHUFFLE	COMPRESS_BYTE_COUNT	1733052
+SHUFFLE	COPY_MAP_DATA	95121000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5490064
+SHUFFLE	COMPRESS_BYTE_COUNT	1707291
+SHUFFLE	COPY_MAP_DATA	375088000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5522319
+SHUFFLE	COMPRESS_BYTE_COUNT	1716491
+SHUFFLE	COPY_MAP_DATA	190564000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5499888
+SHUFFLE	COMPRESS_BYTE_COUNT	1708077
+SHUFFLE	COPY_MAP_DATA	87764000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5493726
+SHUFFLE	COMPRESS_BYTE_COUNT	1707530
+SHUFFLE	COPY_MAP_DATA	94698000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5575287
+SHUFFLE	COMPRESS_BYTE_COUNT	1730689
+SHUFFLE	COPY_MAP_DATA	184148000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5461308
+SHUFFLE	COMPRESS_BYTE_COUNT	1720496
+SHUFFLE	COPY_MAP_DATA	211332000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5472331
+SHUFFLE	COMPRESS_BYTE_COUNT	1701517
+SHUFFLE	COPY_MAP_DATA	85486000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5553614
+SHUFFLE	COMPRESS_BYTE_COUNT	1726718
+SHUFFLE	COPY_MAP_DATA	116815000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5501048
+SHUFFLE	COMPRESS_BYTE_COUNT	1710453
+SHUFFLE	COPY_MAP_DATA	135464000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5500351
+SHUFFLE	COMPRESS_BYTE_COUNT	1709659
+SHUFFLE	COPY_MAP_DATA	366669000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5531272
+SHUFFLE	COMPRESS_BYTE_COUNT	1741466
+SHUFFLE	COPY_MAP_DATA	129183000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5474388
+SHUFFLE	COMPRESS_BYTE_COUNT	1703224
+SHUFFLE	COPY_MAP_DATA	92996000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5518600
+SHUFFLE	COMPRESS_BYTE_COUNT	1716397
+SHUFFLE	COPY_MAP_DATA	127960000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5576457
+SHUFFLE	COMPRESS_BYTE_COUNT	1711446
+SHUFFLE	COPY_MAP_DATA	1648416000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5519625
+SHUFFLE	COMPRESS_BYTE_COUNT	1714907
+SHUFFLE	COPY_MAP_DATA	1249293000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5536830
+SHUFFLE	COMPRESS_BYTE_COUNT	1721357
+SHUFFLE	COPY_MAP_DATA	3827621000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5487601
+SHUFFLE	COMPRESS_BYTE_COUNT	1754409
+SHUFFLE	COPY_MAP_DATA	95729000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5492171
+SHUFFLE	COMPRESS_BYTE_COUNT	1707863
+SHUFFLE	COPY_MAP_DATA	81749000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5494350
+SHUFFLE	COMPRESS_BYTE_COUNT	1687363
+SHUFFLE	COPY_MAP_DATA	117629000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5522979
+SHUFFLE	COMPRESS_BYTE_COUNT	1716556
+SHUFFLE	COPY_MAP_DATA	81500000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5486859
+SHUFFLE	COMPRESS_BYTE_COUNT	1684902
+SHUFFLE	COPY_MAP_DATA	101735000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5504656
+SHUFFLE	COMPRESS_BYTE_COUNT	1689687
+SHUFFLE	COPY_MAP_DATA	236315000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5548773
+SHUFFLE	COMPRESS_BYTE_COUNT	1704264
+SHUFFLE	COPY_MAP_DATA	110794000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5526693
+SHUFFLE	COMPRESS_BYTE_COUNT	1717618
+SHUFFLE	COPY_MAP_DATA	97972000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5538796
+SHUFFLE	COMPRESS_BYTE_COUNT	1720678
+SHUFFLE	COPY_MAP_DATA	221907000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5443669
+SHUFFLE	COMPRESS_BYTE_COUNT	1693180
+SHUFFLE	COPY_MAP_DATA	6357892000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5565158
+SHUFFLE	COMPRESS_BYTE_COUNT	1729245
+SHUFFLE	COPY_MAP_DATA	344879000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5533661
+SHUFFLE	COMPRESS_BYTE_COUNT	1699139
+SHUFFLE	COPY_MAP_DATA	233992000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5469494
+SHUFFLE	COMPRESS_BYTE_COUNT	1700983
+SHUFFLE	COPY_MAP_DATA	96685000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5522895
+SHUFFLE	COMPRESS_BYTE_COUNT	1714394
+SHUFFLE	COPY_MAP_DATA	459488000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5508488
+SHUFFLE	COMPRESS_BYTE_COUNT	1712250
+SHUFFLE	COPY_MAP_DATA	87016000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5520595
+SHUFFLE	COMPRESS_BYTE_COUNT	1716077
+SHUFFLE	COPY_MAP_DATA	94388000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5480984
+SHUFFLE	COMPRESS_BYTE_COUNT	1703428
+SHUFFLE	COPY_MAP_DATA	1930978000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5481477
+SHUFFLE	COMPRESS_BYTE_COUNT	1726206
+SHUFFLE	COPY_MAP_DATA	86102000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5525665
+SHUFFLE	COMPRESS_BYTE_COUNT	1697259
+SHUFFLE	COPY_MAP_DATA	98254000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5476808
+SHUFFLE	COMPRESS_BYTE_COUNT	1702949
+SHUFFLE	COPY_MAP_DATA	104875000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5558005
+SHUFFLE	COMPRESS_BYTE_COUNT	1727330
+SHUFFLE	COPY_MAP_DATA	1330580000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5521095
+SHUFFLE	COMPRESS_BYTE_COUNT	1715905
+SHUFFLE	COPY_MAP_DATA	87868000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5569901
+SHUFFLE	COMPRESS_BYTE_COUNT	1710139
+SHUFFLE	COPY_MAP_DATA	743809000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5576096
+SHUFFLE	COMPRESS_BYTE_COUNT	1711526
+SHUFFLE	COPY_MAP_DATA	214707000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5573948
+SHUFFLE	COMPRESS_BYTE_COUNT	1710796
+SHUFFLE	COPY_MAP_DATA	93362000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5561873
+SHUFFLE	COMPRESS_BYTE_COUNT	1707121
+SHUFFLE	COPY_MAP_DATA	89231000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5514327
+SHUFFLE	COMPRESS_BYTE_COUNT	1711586
+SHUFFLE	COPY_MAP_DATA	838839000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5496897
+SHUFFLE	COMPRESS_BYTE_COUNT	1708691
+SHUFFLE	COPY_MAP_DATA	1014495000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5583863
+SHUFFLE	COMPRESS_BYTE_COUNT	1713369
+SHUFFLE	COPY_MAP_DATA	349548000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5572487
+SHUFFLE	COMPRESS_BYTE_COUNT	1711752
+SHUFFLE	COPY_MAP_DATA	108938000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5590117
+SHUFFLE	COMPRESS_BYTE_COUNT	1715019
+SHUFFLE	COPY_MAP_DATA	575064000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5469768
+SHUFFLE	COMPRESS_BYTE_COUNT	1680308
+SHUFFLE	COPY_MAP_DATA	1483645000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5537491
+SHUFFLE	COMPRESS_BYTE_COUNT	1699735
+SHUFFLE	COPY_MAP_DATA	85486000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5524650
+SHUFFLE	COMPRESS_BYTE_COUNT	1738770
+SHUFFLE	COPY_MAP_DATA	86087000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5516554
+SHUFFLE	COMPRESS_BYTE_COUNT	1693517
+SHUFFLE	COPY_MAP_DATA	233433000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5573171
+SHUFFLE	COMPRESS_BYTE_COUNT	1710873
+SHUFFLE	COPY_MAP_DATA	88008000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5478326
+SHUFFLE	COMPRESS_BYTE_COUNT	1723991
+SHUFFLE	COPY_MAP_DATA	465964000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5524662
+SHUFFLE	COMPRESS_BYTE_COUNT	1697002
+SHUFFLE	COPY_MAP_DATA	672760000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5582711
+SHUFFLE	COMPRESS_BYTE_COUNT	1712125
+SHUFFLE	COPY_MAP_DATA	247235000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5535352
+SHUFFLE	COMPRESS_BYTE_COUNT	1698860
+SHUFFLE	COPY_MAP_DATA	93763000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5528155
+SHUFFLE	COMPRESS_BYTE_COUNT	1698050
+SHUFFLE	COPY_MAP_DATA	92493000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5511561
+SHUFFLE	COMPRESS_BYTE_COUNT	1691901
+SHUFFLE	COPY_MAP_DATA	80995000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5557339
+SHUFFLE	COMPRESS_BYTE_COUNT	1705397
+SHUFFLE	COPY_MAP_DATA	769016000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5528091
+SHUFFLE	COMPRESS_BYTE_COUNT	1696604
+SHUFFLE	COPY_MAP_DATA	311759000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5566516
+SHUFFLE	COMPRESS_BYTE_COUNT	1707834
+SHUFFLE	COPY_MAP_DATA	270029000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5470680
+SHUFFLE	COMPRESS_BYTE_COUNT	1679928
+SHUFFLE	COPY_MAP_DATA	92198000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5577903
+SHUFFLE	COMPRESS_BYTE_COUNT	1713029
+SHUFFLE	COPY_MAP_DATA	189536000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5528666
+SHUFFLE	COMPRESS_BYTE_COUNT	1697347
+SHUFFLE	COPY_MAP_DATA	93190000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5558803
+SHUFFLE	COMPRESS_BYTE_COUNT	1706361
+SHUFFLE	COPY_MAP_DATA	134878000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5526154
+SHUFFLE	COMPRESS_BYTE_COUNT	1735687
+SHUFFLE	COPY_MAP_DATA	7298858000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5540194
+SHUFFLE	COMPRESS_BYTE_COUNT	1701042
+SHUFFLE	COPY_MAP_DATA	91841000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5551432
+SHUFFLE	COMPRESS_BYTE_COUNT	1704521
+SHUFFLE	COPY_MAP_DATA	132960000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5535050
+SHUFFLE	COMPRESS_BYTE_COUNT	1698284
+SHUFFLE	COPY_MAP_DATA	224395000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5527003
+SHUFFLE	COMPRESS_BYTE_COUNT	1695791
+SHUFFLE	COPY_MAP_DATA	6571427000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5531280
+SHUFFLE	COMPRESS_BYTE_COUNT	1697967
+SHUFFLE	COPY_MAP_DATA	425417000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5522658
+SHUFFLE	COMPRESS_BYTE_COUNT	1695342
+SHUFFLE	COPY_MAP_DATA	86166000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5529517
+SHUFFLE	COMPRESS_BYTE_COUNT	1698034
+SHUFFLE	COPY_MAP_DATA	91531000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5524677
+SHUFFLE	COMPRESS_BYTE_COUNT	1695388
+SHUFFLE	COPY_MAP_DATA	5962066000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5551870
+SHUFFLE	COMPRESS_BYTE_COUNT	1703704
+SHUFFLE	COPY_MAP_DATA	322388000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5599941
+SHUFFLE	COMPRESS_BYTE_COUNT	1718616
+SHUFFLE	COPY_MAP_DATA	87380000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5542755
+SHUFFLE	COMPRESS_BYTE_COUNT	1701097
+SHUFFLE	COPY_MAP_DATA	86108000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5593523
+SHUFFLE	COMPRESS_BYTE_COUNT	1716797
+SHUFFLE	COPY_MAP_DATA	626329000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5517652
+SHUFFLE	COMPRESS_BYTE_COUNT	1694318
+SHUFFLE	COPY_MAP_DATA	150228000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5571478
+SHUFFLE	COMPRESS_BYTE_COUNT	1709925
+SHUFFLE	COPY_MAP_DATA	82776000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5576462
+SHUFFLE	COMPRESS_BYTE_COUNT	1712197
+SHUFFLE	COPY_MAP_DATA	243627000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5568852
+SHUFFLE	COMPRESS_BYTE_COUNT	1708737
+SHUFFLE	COPY_MAP_DATA	151550000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5530070
+SHUFFLE	COMPRESS_BYTE_COUNT	1698464
+SHUFFLE	COPY_MAP_DATA	102261000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5502595
+SHUFFLE	COMPRESS_BYTE_COUNT	1710428
+SHUFFLE	COPY_MAP_DATA	136095000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5524596
+SHUFFLE	COMPRESS_BYTE_COUNT	1716822
+SHUFFLE	COPY_MAP_DATA	223178000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5537205
+SHUFFLE	COMPRESS_BYTE_COUNT	1699719
+SHUFFLE	COPY_MAP_DATA	307957000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5516856
+SHUFFLE	COMPRESS_BYTE_COUNT	1694457
+SHUFFLE	COPY_MAP_DATA	821726000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5541495
+SHUFFLE	COMPRESS_BYTE_COUNT	1722981
+SHUFFLE	COPY_MAP_DATA	108875000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5507404
+SHUFFLE	COMPRESS_BYTE_COUNT	1691018
+SHUFFLE	COPY_MAP_DATA	204250000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5545029
+SHUFFLE	COMPRESS_BYTE_COUNT	1703648
+SHUFFLE	COPY_MAP_DATA	11043017000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5521677
+SHUFFLE	COMPRESS_BYTE_COUNT	1694187
+SHUFFLE	COPY_MAP_DATA	8428650000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5523375
+SHUFFLE	COMPRESS_BYTE_COUNT	1696294
+SHUFFLE	COPY_MAP_DATA	256653000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5572128
+SHUFFLE	COMPRESS_BYTE_COUNT	1710674
+SHUFFLE	COPY_MAP_DATA	853745000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5546419
+SHUFFLE	COMPRESS_BYTE_COUNT	1702928
+SHUFFLE	COPY_MAP_DATA	300708000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5513233
+SHUFFLE	COMPRESS_BYTE_COUNT	1712580
+SHUFFLE	COPY_MAP_DATA	95581000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5588209
+SHUFFLE	COMPRESS_BYTE_COUNT	1715467
+SHUFFLE	COPY_MAP_DATA	188471000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5500842
+SHUFFLE	COMPRESS_BYTE_COUNT	1688182
+SHUFFLE	COPY_MAP_DATA	8782913000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5504769
+SHUFFLE	COMPRESS_BYTE_COUNT	1689186
+SHUFFLE	COPY_MAP_DATA	88401000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5589678
+SHUFFLE	COMPRESS_BYTE_COUNT	1715782
+SHUFFLE	COPY_MAP_DATA	89669000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5542201
+SHUFFLE	COMPRESS_BYTE_COUNT	1701134
+SHUFFLE	COPY_MAP_DATA	132583000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5544532
+SHUFFLE	COMPRESS_BYTE_COUNT	1702293
+SHUFFLE	COPY_MAP_DATA	4401520000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5549087
+SHUFFLE	COMPRESS_BYTE_COUNT	1703575
+SHUFFLE	COPY_MAP_DATA	86368000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5505684
+SHUFFLE	COMPRESS_BYTE_COUNT	1691310
+SHUFFLE	COPY_MAP_DATA	332227000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5502768
+SHUFFLE	COMPRESS_BYTE_COUNT	1710825
+SHUFFLE	COPY_MAP_DATA	277640000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5513388
+SHUFFLE	COMPRESS_BYTE_COUNT	1712984
+SHUFFLE	COPY_MAP_DATA	3821645000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5555968
+SHUFFLE	COMPRESS_BYTE_COUNT	1725212
+SHUFFLE	COPY_MAP_DATA	3813070000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5516527
+SHUFFLE	COMPRESS_BYTE_COUNT	1713395
+SHUFFLE	COPY_MAP_DATA	476585000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5517756
+SHUFFLE	COMPRESS_BYTE_COUNT	1713699
+SHUFFLE	COPY_MAP_DATA	1681184000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5607788
+SHUFFLE	COMPRESS_BYTE_COUNT	1741527
+SHUFFLE	COPY_MAP_DATA	3694090000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5538463
+SHUFFLE	COMPRESS_BYTE_COUNT	1699721
+SHUFFLE	COPY_MAP_DATA	1461863000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5503868
+SHUFFLE	COMPRESS_BYTE_COUNT	1710030
+SHUFFLE	COPY_MAP_DATA	517747000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5520225
+SHUFFLE	COMPRESS_BYTE_COUNT	1716236
+SHUFFLE	COPY_MAP_DATA	86185000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5521639
+SHUFFLE	COMPRESS_BYTE_COUNT	1715155
+SHUFFLE	COPY_MAP_DATA	86791000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5510197
+SHUFFLE	COMPRESS_BYTE_COUNT	1713190
+SHUFFLE	COPY_MAP_DATA	1342060000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5489276
+SHUFFLE	COMPRESS_BYTE_COUNT	1705425
+SHUFFLE	COPY_MAP_DATA	97695000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5473932
+SHUFFLE	COMPRESS_BYTE_COUNT	1701611
+SHUFFLE	COPY_MAP_DATA	84779000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5514716
+SHUFFLE	COMPRESS_BYTE_COUNT	1713778
+SHUFFLE	COPY_MAP_DATA	96163000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5602952
+SHUFFLE	COMPRESS_BYTE_COUNT	1719318
+SHUFFLE	COPY_MAP_DATA	115096000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5524573
+SHUFFLE	COMPRESS_BYTE_COUNT	1716803
+SHUFFLE	COPY_MAP_DATA	871744000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5502176
+SHUFFLE	COMPRESS_BYTE_COUNT	1710339
+SHUFFLE	COPY_MAP_DATA	82229000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5565623
+SHUFFLE	COMPRESS_BYTE_COUNT	1708098
+SHUFFLE	COPY_MAP_DATA	94376000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5473703
+SHUFFLE	COMPRESS_BYTE_COUNT	1700732
+SHUFFLE	COPY_MAP_DATA	354058000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5510922
+SHUFFLE	COMPRESS_BYTE_COUNT	1712306
+SHUFFLE	COPY_MAP_DATA	81616000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5496069
+SHUFFLE	COMPRESS_BYTE_COUNT	1708434
+SHUFFLE	COPY_MAP_DATA	697137000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5495060
+SHUFFLE	COMPRESS_BYTE_COUNT	1707890
+SHUFFLE	COPY_MAP_DATA	550683000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5521167
+SHUFFLE	COMPRESS_BYTE_COUNT	1716079
+SHUFFLE	COPY_MAP_DATA	114576000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5521837
+SHUFFLE	COMPRESS_BYTE_COUNT	1715891
+SHUFFLE	COPY_MAP_DATA	88270000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5469292
+SHUFFLE	COMPRESS_BYTE_COUNT	1699784
+SHUFFLE	COPY_MAP_DATA	105516000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5490916
+SHUFFLE	COMPRESS_BYTE_COUNT	1705932
+SHUFFLE	COPY_MAP_DATA	863084000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5489451
+SHUFFLE	COMPRESS_BYTE_COUNT	1706774
+SHUFFLE	COPY_MAP_DATA	85405000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5524999
+SHUFFLE	COMPRESS_BYTE_COUNT	1717795
+SHUFFLE	COPY_MAP_DATA	87490000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5535193
+SHUFFLE	COMPRESS_BYTE_COUNT	1720427
+SHUFFLE	COPY_MAP_DATA	2153755000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5547951
+SHUFFLE	COMPRESS_BYTE_COUNT	1727795
+SHUFFLE	COPY_MAP_DATA	1312592000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5481881
+SHUFFLE	COMPRESS_BYTE_COUNT	1702214
+SHUFFLE	COPY_MAP_DATA	595977000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5490912
+SHUFFLE	COMPRESS_BYTE_COUNT	1708030
+SHUFFLE	COPY_MAP_DATA	80343000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5563060
+SHUFFLE	COMPRESS_BYTE_COUNT	1733569
+SHUFFLE	COPY_MAP_DATA	1200044000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5551890
+SHUFFLE	COMPRESS_BYTE_COUNT	1730455
+SHUFFLE	COPY_MAP_DATA	765034000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5556934
+SHUFFLE	COMPRESS_BYTE_COUNT	1729441
+SHUFFLE	COPY_MAP_DATA	668370000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5532710
+SHUFFLE	COMPRESS_BYTE_COUNT	1720548
+SHUFFLE	COPY_MAP_DATA	88418000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5538465
+SHUFFLE	COMPRESS_BYTE_COUNT	1724722
+SHUFFLE	COPY_MAP_DATA	321287000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5600269
+SHUFFLE	COMPRESS_BYTE_COUNT	1728907
+SHUFFLE	COPY_MAP_DATA	362545000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5580089
+SHUFFLE	COMPRESS_BYTE_COUNT	1723571
+SHUFFLE	COPY_MAP_DATA	330626000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5569138
+SHUFFLE	COMPRESS_BYTE_COUNT	1734755
+SHUFFLE	COPY_MAP_DATA	206533000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5611185
+SHUFFLE	COMPRESS_BYTE_COUNT	1732846
+SHUFFLE	COPY_MAP_DATA	117891000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5536514
+SHUFFLE	COMPRESS_BYTE_COUNT	1726015
+SHUFFLE	COPY_MAP_DATA	322592000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5585526
+SHUFFLE	COMPRESS_BYTE_COUNT	1724682
+SHUFFLE	COPY_MAP_DATA	173752000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5504489
+SHUFFLE	COMPRESS_BYTE_COUNT	1711240
+SHUFFLE	COPY_MAP_DATA	96167000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5536875
+SHUFFLE	COMPRESS_BYTE_COUNT	1721253
+SHUFFLE	COPY_MAP_DATA	90047000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5592731
+SHUFFLE	COMPRESS_BYTE_COUNT	1725506
+SHUFFLE	COPY_MAP_DATA	434087000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4716971
+SHUFFLE	COMPRESS_BYTE_COUNT	1447889
+SHUFFLE	COPY_MAP_DATA	204366000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5557709
+SHUFFLE	COMPRESS_BYTE_COUNT	1731592
+SHUFFLE	COPY_MAP_DATA	304017000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4741785
+SHUFFLE	COMPRESS_BYTE_COUNT	1455696
+SHUFFLE	COPY_MAP_DATA	71263000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4468009
+SHUFFLE	COMPRESS_BYTE_COUNT	1388658
+SHUFFLE	COPY_MAP_DATA	75792000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4422784
+SHUFFLE	COMPRESS_BYTE_COUNT	1374324
+SHUFFLE	COPY_MAP_DATA	77163000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5583740
+SHUFFLE	COMPRESS_BYTE_COUNT	1724031
+SHUFFLE	COPY_MAP_DATA	115581000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4775139
+SHUFFLE	COMPRESS_BYTE_COUNT	1466181
+SHUFFLE	COPY_MAP_DATA	70797000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5594212
+SHUFFLE	COMPRESS_BYTE_COUNT	1727127
+SHUFFLE	COPY_MAP_DATA	174774000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5545974
+SHUFFLE	COMPRESS_BYTE_COUNT	1729022
+SHUFFLE	COPY_MAP_DATA	81714000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5603844
+SHUFFLE	COMPRESS_BYTE_COUNT	1729093
+SHUFFLE	COPY_MAP_DATA	98424000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5520119
+SHUFFLE	COMPRESS_BYTE_COUNT	1736571
+SHUFFLE	COPY_MAP_DATA	82278000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5589589
+SHUFFLE	COMPRESS_BYTE_COUNT	1725067
+SHUFFLE	COPY_MAP_DATA	125252000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5544853
+SHUFFLE	COMPRESS_BYTE_COUNT	1727508
+SHUFFLE	COPY_MAP_DATA	82142000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4486204
+SHUFFLE	COMPRESS_BYTE_COUNT	1393729
+SHUFFLE	COPY_MAP_DATA	152424000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5509086
+SHUFFLE	COMPRESS_BYTE_COUNT	1746699
+SHUFFLE	COPY_MAP_DATA	92076000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4471255
+SHUFFLE	COMPRESS_BYTE_COUNT	1389987
+SHUFFLE	COPY_MAP_DATA	121811000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5593770
+SHUFFLE	COMPRESS_BYTE_COUNT	1727121
+SHUFFLE	COPY_MAP_DATA	102305000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5586195
+SHUFFLE	COMPRESS_BYTE_COUNT	1724011
+SHUFFLE	COPY_MAP_DATA	82122000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1732796
+SHUFFLE	COMPRESS_BYTE_COUNT	536161
+SHUFFLE	COPY_MAP_DATA	29936000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5609398
+SHUFFLE	COMPRESS_BYTE_COUNT	1730500
+SHUFFLE	COPY_MAP_DATA	82026000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5540740
+SHUFFLE	COMPRESS_BYTE_COUNT	1726551
+SHUFFLE	COPY_MAP_DATA	359557000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5600649
+SHUFFLE	COMPRESS_BYTE_COUNT	1729346
+SHUFFLE	COPY_MAP_DATA	106407000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4769756
+SHUFFLE	COMPRESS_BYTE_COUNT	1463818
+SHUFFLE	COPY_MAP_DATA	87001000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1734805
+SHUFFLE	COMPRESS_BYTE_COUNT	536573
+SHUFFLE	COPY_MAP_DATA	213693000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4464031
+SHUFFLE	COMPRESS_BYTE_COUNT	1387064
+SHUFFLE	COPY_MAP_DATA	107247000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4443977
+SHUFFLE	COMPRESS_BYTE_COUNT	1380395
+SHUFFLE	COPY_MAP_DATA	90507000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4733754
+SHUFFLE	COMPRESS_BYTE_COUNT	1453439
+SHUFFLE	COPY_MAP_DATA	85254000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4746999
+SHUFFLE	COMPRESS_BYTE_COUNT	1457984
+SHUFFLE	COPY_MAP_DATA	141710000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5557355
+SHUFFLE	COMPRESS_BYTE_COUNT	1732015
+SHUFFLE	COPY_MAP_DATA	509378000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4383767
+SHUFFLE	COMPRESS_BYTE_COUNT	1362205
+SHUFFLE	COPY_MAP_DATA	68117000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1739686
+SHUFFLE	COMPRESS_BYTE_COUNT	537797
+SHUFFLE	COPY_MAP_DATA	6738261000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1739384
+SHUFFLE	COMPRESS_BYTE_COUNT	537865
+SHUFFLE	COPY_MAP_DATA	28513000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1660237
+SHUFFLE	COMPRESS_BYTE_COUNT	518140
+SHUFFLE	COPY_MAP_DATA	153441000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5561185
+SHUFFLE	COMPRESS_BYTE_COUNT	1732652
+SHUFFLE	COPY_MAP_DATA	90408000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4770375
+SHUFFLE	COMPRESS_BYTE_COUNT	1463682
+SHUFFLE	COPY_MAP_DATA	1771954000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4427149
+SHUFFLE	COMPRESS_BYTE_COUNT	1375535
+SHUFFLE	COPY_MAP_DATA	69553000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5561271
+SHUFFLE	COMPRESS_BYTE_COUNT	1732209
+SHUFFLE	COPY_MAP_DATA	96129000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4441998
+SHUFFLE	COMPRESS_BYTE_COUNT	1380012
+SHUFFLE	COPY_MAP_DATA	89388000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1667087
+SHUFFLE	COMPRESS_BYTE_COUNT	519995
+SHUFFLE	COPY_MAP_DATA	42841000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4725820
+SHUFFLE	COMPRESS_BYTE_COUNT	1451713
+SHUFFLE	COPY_MAP_DATA	70083000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1739799
+SHUFFLE	COMPRESS_BYTE_COUNT	537840
+SHUFFLE	COPY_MAP_DATA	984075000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1736255
+SHUFFLE	COMPRESS_BYTE_COUNT	536390
+SHUFFLE	COPY_MAP_DATA	29072000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1735856
+SHUFFLE	COMPRESS_BYTE_COUNT	537130
+SHUFFLE	COPY_MAP_DATA	45593000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1740436
+SHUFFLE	COMPRESS_BYTE_COUNT	537756
+SHUFFLE	COPY_MAP_DATA	28862000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5535636
+SHUFFLE	COMPRESS_BYTE_COUNT	1725393
+SHUFFLE	COPY_MAP_DATA	109492000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4718027
+SHUFFLE	COMPRESS_BYTE_COUNT	1448653
+SHUFFLE	COPY_MAP_DATA	361919000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4777432
+SHUFFLE	COMPRESS_BYTE_COUNT	1466989
+SHUFFLE	COPY_MAP_DATA	94371000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1739141
+SHUFFLE	COMPRESS_BYTE_COUNT	537745
+SHUFFLE	COPY_MAP_DATA	43446000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4743279
+SHUFFLE	COMPRESS_BYTE_COUNT	1458072
+SHUFFLE	COPY_MAP_DATA	157107000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4453315
+SHUFFLE	COMPRESS_BYTE_COUNT	1384077
+SHUFFLE	COPY_MAP_DATA	352384000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4124280
+SHUFFLE	COMPRESS_BYTE_COUNT	1299682
+SHUFFLE	COPY_MAP_DATA	400623000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4774681
+SHUFFLE	COMPRESS_BYTE_COUNT	1466446
+SHUFFLE	COPY_MAP_DATA	606457000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1743227
+SHUFFLE	COMPRESS_BYTE_COUNT	538535
+SHUFFLE	COPY_MAP_DATA	33827000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1661388
+SHUFFLE	COMPRESS_BYTE_COUNT	518271
+SHUFFLE	COPY_MAP_DATA	37129000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4438729
+SHUFFLE	COMPRESS_BYTE_COUNT	1379028
+SHUFFLE	COPY_MAP_DATA	67959000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1664886
+SHUFFLE	COMPRESS_BYTE_COUNT	519629
+SHUFFLE	COPY_MAP_DATA	26160000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1669420
+SHUFFLE	COMPRESS_BYTE_COUNT	520873
+SHUFFLE	COPY_MAP_DATA	25688000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1738615
+SHUFFLE	COMPRESS_BYTE_COUNT	537243
+SHUFFLE	COPY_MAP_DATA	35109000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1625582
+SHUFFLE	COMPRESS_BYTE_COUNT	507413
+SHUFFLE	COPY_MAP_DATA	25121000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1736350
+SHUFFLE	COMPRESS_BYTE_COUNT	537625
+SHUFFLE	COPY_MAP_DATA	27709000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1666323
+SHUFFLE	COMPRESS_BYTE_COUNT	520415
+SHUFFLE	COPY_MAP_DATA	25893000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1700099
+SHUFFLE	COMPRESS_BYTE_COUNT	524700
+SHUFFLE	COPY_MAP_DATA	1033358000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1734006
+SHUFFLE	COMPRESS_BYTE_COUNT	536215
+SHUFFLE	COPY_MAP_DATA	39189000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1658971
+SHUFFLE	COMPRESS_BYTE_COUNT	518060
+SHUFFLE	COPY_MAP_DATA	163362000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1667087
+SHUFFLE	COMPRESS_BYTE_COUNT	520570
+SHUFFLE	COPY_MAP_DATA	181346000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4286127
+SHUFFLE	COMPRESS_BYTE_COUNT	1332215
+SHUFFLE	COPY_MAP_DATA	647750000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1660111
+SHUFFLE	COMPRESS_BYTE_COUNT	517418
+SHUFFLE	COPY_MAP_DATA	270213000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4455025
+SHUFFLE	COMPRESS_BYTE_COUNT	1383998
+SHUFFLE	COPY_MAP_DATA	2670858000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1668543
+SHUFFLE	COMPRESS_BYTE_COUNT	520921
+SHUFFLE	COPY_MAP_DATA	184105000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1662359
+SHUFFLE	COMPRESS_BYTE_COUNT	518386
+SHUFFLE	COPY_MAP_DATA	678547000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1659150
+SHUFFLE	COMPRESS_BYTE_COUNT	518215
+SHUFFLE	COPY_MAP_DATA	26528000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4751427
+SHUFFLE	COMPRESS_BYTE_COUNT	1457850
+SHUFFLE	COPY_MAP_DATA	79470000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1658320
+SHUFFLE	COMPRESS_BYTE_COUNT	517814
+SHUFFLE	COPY_MAP_DATA	27663000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1663737
+SHUFFLE	COMPRESS_BYTE_COUNT	519079
+SHUFFLE	COPY_MAP_DATA	25576000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4435932
+SHUFFLE	COMPRESS_BYTE_COUNT	1377620
+SHUFFLE	COPY_MAP_DATA	79867000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1588898
+SHUFFLE	COMPRESS_BYTE_COUNT	501286
+SHUFFLE	COPY_MAP_DATA	147472000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4587224
+SHUFFLE	COMPRESS_BYTE_COUNT	1408379
+SHUFFLE	COPY_MAP_DATA	124475000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4510470
+SHUFFLE	COMPRESS_BYTE_COUNT	1401204
+SHUFFLE	COPY_MAP_DATA	71723000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	464535713933
+MERGE	READ_WRITE	454937381933
+MERGE	READ_WRITE_COUNT	8
+MERGE	COMBINE	0
+MERGE	WRITE	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	8195599281
+SORT	READ_WRITE	8017643281
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	236360992
+REDUCE	SETUP	417000
+REDUCE	SETUP_MEM	236360992
+REDUCE	CLEANUP	39000
+REDUCE	CLEANUP_MEM	167835408
+REDUCE	TOTAL_RUN	559900162000
+REDUCE	READ	18105882000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	531703128000
+REDUCE	WRITE	310787858000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	55883970
+REDUCE	VALUE_BYTE_COUNT	1647696354
+REDUCE	REDUCE_MEM	167835408
+REDUCE	WRITE	284768000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	1266044301214
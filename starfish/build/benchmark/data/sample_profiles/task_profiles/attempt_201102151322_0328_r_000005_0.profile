@@ -0,0 +1,989 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5455739
+SHUFFLE	COMPRESS_BYTE_COUNT	1695082
+SHUFFLE	COPY_MAP_DATA	2137905000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5500748
+SHUFFLE	COMPRESS_BYTE_COUNT	1709006
+SHUFFLE	COPY_MAP_DATA	159427000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5455023
+SHUFFLE	COMPRESS_BYTE_COUNT	1694986
+SHUFFLE	COPY_MAP_DATA	1045314000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5560272
+SHUFFLE	COMPRESS_BYTE_COUNT	1729026
+SHUFFLE	COPY_MAP_DATA	448318000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5557606
+SHUFFLE	COMPRESS_BYTE_COUNT	1726840
+SHUFFLE	COPY_MAP_DATA	2833486000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5530865
+SHUFFLE	COMPRESS_BYTE_COUNT	1718847
+SHUFFLE	COPY_MAP_DATA	141419000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5535873
+SHUFFLE	COMPRESS_BYTE_COUNT	1721339
+SHUFFLE	COPY_MAP_DATA	133453000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5516930
+SHUFFLE	COMPRESS_BYTE_COUNT	1713893
+SHUFFLE	COPY_MAP_DATA	104653000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5479511
+SHUFFLE	COMPRESS_BYTE_COUNT	1704090
+SHUFFLE	COPY_MAP_DATA	337685000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5486502
+SHUFFLE	COMPRESS_BYTE_COUNT	1703692
+SHUFFLE	COPY_MAP_DATA	253697000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5493591
+SHUFFLE	COMPRESS_BYTE_COUNT	1728712
+SHUFFLE	COPY_MAP_DATA	98652000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5566996
+SHUFFLE	COMPRESS_BYTE_COUNT	1729825
+SHUFFLE	COPY_MAP_DATA	269338000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5496145
+SHUFFLE	COMPRESS_BYTE_COUNT	1708591
+SHUFFLE	COPY_MAP_DATA	104280000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5514834
+SHUFFLE	COMPRESS_BYTE_COUNT	1715250
+SHUFFLE	COPY_MAP_DATA	173292000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5513066
+SHUFFLE	COMPRESS_BYTE_COUNT	1734877
+SHUFFLE	COPY_MAP_DATA	387373000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5469500
+SHUFFLE	COMPRESS_BYTE_COUNT	1700444
+SHUFFLE	COPY_MAP_DATA	222869000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5567413
+SHUFFLE	COMPRESS_BYTE_COUNT	1729656
+SHUFFLE	COPY_MAP_DATA	223746000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5473964
+SHUFFLE	COMPRESS_BYTE_COUNT	1701011
+SHUFFLE	COPY_MAP_DATA	172086000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5467239
+SHUFFLE	COMPRESS_BYTE_COUNT	1721623
+SHUFFLE	COPY_MAP_DATA	379747000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5506297
+SHUFFLE	COMPRESS_BYTE_COUNT	1712042
+SHUFFLE	COPY_MAP_DATA	88738000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5449911
+SHUFFLE	COMPRESS_BYTE_COUNT	1693877
+SHUFFLE	COPY_MAP_DATA	110451000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5480163
+SHUFFLE	COMPRESS_BYTE_COUNT	1703543
+SHUFFLE	COPY_MAP_DATA	751237000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5500463
+SHUFFLE	COMPRESS_BYTE_COUNT	1709640
+SHUFFLE	COPY_MAP_DATA	82791000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5492860
+SHUFFLE	COMPRESS_BYTE_COUNT	1705983
+SHUFFLE	COPY_MAP_DATA	85987000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5478497
+SHUFFLE	COMPRESS_BYTE_COUNT	1703643
+SHUFFLE	COPY_MAP_DATA	126753000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5513852
+SHUFFLE	COMPRESS_BYTE_COUNT	1714032
+SHUFFLE	COPY_MAP_DATA	165086000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5541409
+SHUFFLE	COMPRESS_BYTE_COUNT	1701274
+SHUFFLE	COPY_MAP_DATA	297912000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5532922
+SHUFFLE	COMPRESS_BYTE_COUNT	1719252
+SHUFFLE	COPY_MAP_DATA	616422000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5528403
+SHUFFLE	COMPRESS_BYTE_COUNT	1741101
+SHUFFLE	COPY_MAP_DATA	496980000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5420112
+SHUFFLE	COMPRESS_BYTE_COUNT	1732938
+SHUFFLE	COPY_MAP_DATA	561262000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5497492
+SHUFFLE	COMPRESS_BYTE_COUNT	1707956
+SHUFFLE	COPY_MAP_DATA	97895000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5545034
+SHUFFLE	COMPRESS_BYTE_COUNT	1702061
+SHUFFLE	COPY_MAP_DATA	124790000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5454182
+SHUFFLE	COMPRESS_BYTE_COUNT	1694836
+SHUFFLE	COPY_MAP_DATA	134375000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5558843
+SHUFFLE	COMPRESS_BYTE_COUNT	1706202
+SHUFFLE	COPY_MAP_DATA	83001000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5576712
+SHUFFLE	COMPRESS_BYTE_COUNT	1711382
+SHUFFLE	COPY_MAP_DATA	87256000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5548206
+SHUFFLE	COMPRESS_BYTE_COUNT	1724454
+SHUFFLE	COPY_MAP_DATA	227461000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5532332
+SHUFFLE	COMPRESS_BYTE_COUNT	1719648
+SHUFFLE	COPY_MAP_DATA	95624000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5571697
+SHUFFLE	COMPRESS_BYTE_COUNT	1711292
+SHUFFLE	COPY_MAP_DATA	2956318000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5596852
+SHUFFLE	COMPRESS_BYTE_COUNT	1716976
+SHUFFLE	COPY_MAP_DATA	115094000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5569877
+SHUFFLE	COMPRESS_BYTE_COUNT	1730643
+SHUFFLE	COPY_MAP_DATA	180546000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5516386
+SHUFFLE	COMPRESS_BYTE_COUNT	1715357
+SHUFFLE	COPY_MAP_DATA	85526000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5502757
+SHUFFLE	COMPRESS_BYTE_COUNT	1709240
+SHUFFLE	COPY_MAP_DATA	465818000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5497928
+SHUFFLE	COMPRESS_BYTE_COUNT	1707879
+SHUFFLE	COPY_MAP_DATA	3326570000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5575371
+SHUFFLE	COMPRESS_BYTE_COUNT	1711172
+SHUFFLE	COPY_MAP_DATA	400757000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5452703
+SHUFFLE	COMPRESS_BYTE_COUNT	1695190
+SHUFFLE	COPY_MAP_DATA	3029408000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5519287
+SHUFFLE	COMPRESS_BYTE_COUNT	1715499
+SHUFFLE	COPY_MAP_DATA	131143000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5509716
+SHUFFLE	COMPRESS_BYTE_COUNT	1734161
+SHUFFLE	COPY_MAP_DATA	106915000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5445937
+SHUFFLE	COMPRESS_BYTE_COUNT	1692904
+SHUFFLE	COPY_MAP_DATA	95112000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5522687
+SHUFFLE	COMPRESS_BYTE_COUNT	1716229
+SHUFFLE	COPY_MAP_DATA	195682000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5516423
+SHUFFLE	COMPRESS_BYTE_COUNT	1713849
+SHUFFLE	COPY_MAP_DATA	982063000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5517461
+SHUFFLE	COMPRESS_BYTE_COUNT	1715557
+SHUFFLE	COPY_MAP_DATA	278249000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5601650
+SHUFFLE	COMPRESS_BYTE_COUNT	1718807
+SHUFFLE	COPY_MAP_DATA	418864000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5601537
+SHUFFLE	COMPRESS_BYTE_COUNT	1718405
+SHUFFLE	COPY_MAP_DATA	111486000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5565319
+SHUFFLE	COMPRESS_BYTE_COUNT	1709112
+SHUFFLE	COPY_MAP_DATA	143067000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5525211
+SHUFFLE	COMPRESS_BYTE_COUNT	1714771
+SHUFFLE	COPY_MAP_DATA	2786663000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5527582
+SHUFFLE	COMPRESS_BYTE_COUNT	1696145
+SHUFFLE	COPY_MAP_DATA	1109966000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5536216
+SHUFFLE	COMPRESS_BYTE_COUNT	1720608
+SHUFFLE	COPY_MAP_DATA	1893558000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5558286
+SHUFFLE	COMPRESS_BYTE_COUNT	1705738
+SHUFFLE	COPY_MAP_DATA	301762000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5545284
+SHUFFLE	COMPRESS_BYTE_COUNT	1701422
+SHUFFLE	COPY_MAP_DATA	251706000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5573294
+SHUFFLE	COMPRESS_BYTE_COUNT	1710665
+SHUFFLE	COPY_MAP_DATA	176328000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5530397
+SHUFFLE	COMPRESS_BYTE_COUNT	1697842
+SHUFFLE	COPY_MAP_DATA	92100000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5503525
+SHUFFLE	COMPRESS_BYTE_COUNT	1689329
+SHUFFLE	COPY_MAP_DATA	2192919000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5475030
+SHUFFLE	COMPRESS_BYTE_COUNT	1724436
+SHUFFLE	COPY_MAP_DATA	92652000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5571829
+SHUFFLE	COMPRESS_BYTE_COUNT	1710029
+SHUFFLE	COPY_MAP_DATA	137672000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5551281
+SHUFFLE	COMPRESS_BYTE_COUNT	1704328
+SHUFFLE	COPY_MAP_DATA	97426000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5476328
+SHUFFLE	COMPRESS_BYTE_COUNT	1723893
+SHUFFLE	COPY_MAP_DATA	1494717000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5573201
+SHUFFLE	COMPRESS_BYTE_COUNT	1711195
+SHUFFLE	COPY_MAP_DATA	97612000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5544164
+SHUFFLE	COMPRESS_BYTE_COUNT	1702902
+SHUFFLE	COPY_MAP_DATA	88064000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5534645
+SHUFFLE	COMPRESS_BYTE_COUNT	1698072
+SHUFFLE	COPY_MAP_DATA	105848000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5539429
+SHUFFLE	COMPRESS_BYTE_COUNT	1701410
+SHUFFLE	COPY_MAP_DATA	161946000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5558777
+SHUFFLE	COMPRESS_BYTE_COUNT	1706313
+SHUFFLE	COPY_MAP_DATA	88265000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5550134
+SHUFFLE	COMPRESS_BYTE_COUNT	1704437
+SHUFFLE	COPY_MAP_DATA	463563000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5504729
+SHUFFLE	COMPRESS_BYTE_COUNT	1689254
+SHUFFLE	COPY_MAP_DATA	250985000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5553834
+SHUFFLE	COMPRESS_BYTE_COUNT	1704087
+SHUFFLE	COPY_MAP_DATA	111870000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5514349
+SHUFFLE	COMPRESS_BYTE_COUNT	1693354
+SHUFFLE	COPY_MAP_DATA	127611000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5584272
+SHUFFLE	COMPRESS_BYTE_COUNT	1714046
+SHUFFLE	COPY_MAP_DATA	190114000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5572209
+SHUFFLE	COMPRESS_BYTE_COUNT	1710308
+SHUFFLE	COPY_MAP_DATA	248442000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5529799
+SHUFFLE	COMPRESS_BYTE_COUNT	1698180
+SHUFFLE	COPY_MAP_DATA	98927000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5521349
+SHUFFLE	COMPRESS_BYTE_COUNT	1695414
+SHUFFLE	COPY_MAP_DATA	408394000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5461968
+SHUFFLE	COMPRESS_BYTE_COUNT	1715989
+SHUFFLE	COPY_MAP_DATA	3202392000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5604484
+SHUFFLE	COMPRESS_BYTE_COUNT	1719839
+SHUFFLE	COPY_MAP_DATA	1996555000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5627740
+SHUFFLE	COMPRESS_BYTE_COUNT	1727060
+SHUFFLE	COPY_MAP_DATA	92011000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5525226
+SHUFFLE	COMPRESS_BYTE_COUNT	1694963
+SHUFFLE	COPY_MAP_DATA	884315000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5554403
+SHUFFLE	COMPRESS_BYTE_COUNT	1705140
+SHUFFLE	COPY_MAP_DATA	88896000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5549217
+SHUFFLE	COMPRESS_BYTE_COUNT	1704319
+SHUFFLE	COPY_MAP_DATA	272674000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5524391
+SHUFFLE	COMPRESS_BYTE_COUNT	1696044
+SHUFFLE	COPY_MAP_DATA	193730000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5507639
+SHUFFLE	COMPRESS_BYTE_COUNT	1689851
+SHUFFLE	COPY_MAP_DATA	1472567000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5574345
+SHUFFLE	COMPRESS_BYTE_COUNT	1710374
+SHUFFLE	COPY_MAP_DATA	622713000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5512975
+SHUFFLE	COMPRESS_BYTE_COUNT	1693698
+SHUFFLE	COPY_MAP_DATA	179839000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5532898
+SHUFFLE	COMPRESS_BYTE_COUNT	1698013
+SHUFFLE	COPY_MAP_DATA	567653000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5508093
+SHUFFLE	COMPRESS_BYTE_COUNT	1690785
+SHUFFLE	COPY_MAP_DATA	187346000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5583012
+SHUFFLE	COMPRESS_BYTE_COUNT	1714412
+SHUFFLE	COPY_MAP_DATA	4556763000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5542162
+SHUFFLE	COMPRESS_BYTE_COUNT	1700217
+SHUFFLE	COPY_MAP_DATA	164907000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5536242
+SHUFFLE	COMPRESS_BYTE_COUNT	1700604
+SHUFFLE	COPY_MAP_DATA	127266000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5506106
+SHUFFLE	COMPRESS_BYTE_COUNT	1690545
+SHUFFLE	COPY_MAP_DATA	86653000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5568780
+SHUFFLE	COMPRESS_BYTE_COUNT	1709618
+SHUFFLE	COPY_MAP_DATA	508643000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5516930
+SHUFFLE	COMPRESS_BYTE_COUNT	1714021
+SHUFFLE	COPY_MAP_DATA	359801000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5545224
+SHUFFLE	COMPRESS_BYTE_COUNT	1701711
+SHUFFLE	COPY_MAP_DATA	103286000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5517626
+SHUFFLE	COMPRESS_BYTE_COUNT	1693989
+SHUFFLE	COPY_MAP_DATA	100175000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5454892
+SHUFFLE	COMPRESS_BYTE_COUNT	1695686
+SHUFFLE	COPY_MAP_DATA	89096000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5552991
+SHUFFLE	COMPRESS_BYTE_COUNT	1704030
+SHUFFLE	COPY_MAP_DATA	99056000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5542521
+SHUFFLE	COMPRESS_BYTE_COUNT	1723723
+SHUFFLE	COPY_MAP_DATA	175576000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5509148
+SHUFFLE	COMPRESS_BYTE_COUNT	1691064
+SHUFFLE	COPY_MAP_DATA	87158000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5522446
+SHUFFLE	COMPRESS_BYTE_COUNT	1695434
+SHUFFLE	COPY_MAP_DATA	1823798000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5524146
+SHUFFLE	COMPRESS_BYTE_COUNT	1696460
+SHUFFLE	COPY_MAP_DATA	1254678000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5559260
+SHUFFLE	COMPRESS_BYTE_COUNT	1706387
+SHUFFLE	COPY_MAP_DATA	9579098000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5529356
+SHUFFLE	COMPRESS_BYTE_COUNT	1698057
+SHUFFLE	COPY_MAP_DATA	1209780000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5508977
+SHUFFLE	COMPRESS_BYTE_COUNT	1711955
+SHUFFLE	COPY_MAP_DATA	106533000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5601306
+SHUFFLE	COMPRESS_BYTE_COUNT	1718651
+SHUFFLE	COPY_MAP_DATA	120048000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5547821
+SHUFFLE	COMPRESS_BYTE_COUNT	1702286
+SHUFFLE	COPY_MAP_DATA	123174000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5518470
+SHUFFLE	COMPRESS_BYTE_COUNT	1692784
+SHUFFLE	COPY_MAP_DATA	211575000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5562434
+SHUFFLE	COMPRESS_BYTE_COUNT	1707235
+SHUFFLE	COPY_MAP_DATA	400220000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5523058
+SHUFFLE	COMPRESS_BYTE_COUNT	1696103
+SHUFFLE	COPY_MAP_DATA	2945211000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5562839
+SHUFFLE	COMPRESS_BYTE_COUNT	1707106
+SHUFFLE	COPY_MAP_DATA	1095205000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5562809
+SHUFFLE	COMPRESS_BYTE_COUNT	1707913
+SHUFFLE	COPY_MAP_DATA	2035596000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5510643
+SHUFFLE	COMPRESS_BYTE_COUNT	1692085
+SHUFFLE	COPY_MAP_DATA	1445419000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5497483
+SHUFFLE	COMPRESS_BYTE_COUNT	1708946
+SHUFFLE	COPY_MAP_DATA	102798000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5486020
+SHUFFLE	COMPRESS_BYTE_COUNT	1704066
+SHUFFLE	COPY_MAP_DATA	116766000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5501345
+SHUFFLE	COMPRESS_BYTE_COUNT	1709330
+SHUFFLE	COPY_MAP_DATA	88437000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5495311
+SHUFFLE	COMPRESS_BYTE_COUNT	1707761
+SHUFFLE	COPY_MAP_DATA	87969000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5476201
+SHUFFLE	COMPRESS_BYTE_COUNT	1701934
+SHUFFLE	COPY_MAP_DATA	104942000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5524345
+SHUFFLE	COMPRESS_BYTE_COUNT	1695300
+SHUFFLE	COPY_MAP_DATA	382196000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5518767
+SHUFFLE	COMPRESS_BYTE_COUNT	1714948
+SHUFFLE	COPY_MAP_DATA	694000000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5567380
+SHUFFLE	COMPRESS_BYTE_COUNT	1730708
+SHUFFLE	COPY_MAP_DATA	99454000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5512573
+SHUFFLE	COMPRESS_BYTE_COUNT	1712843
+SHUFFLE	COPY_MAP_DATA	110752000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5526424
+SHUFFLE	COMPRESS_BYTE_COUNT	1717341
+SHUFFLE	COPY_MAP_DATA	90598000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5542624
+SHUFFLE	COMPRESS_BYTE_COUNT	1723699
+SHUFFLE	COPY_MAP_DATA	97920000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5521694
+SHUFFLE	COMPRESS_BYTE_COUNT	1715458
+SHUFFLE	COPY_MAP_DATA	101824000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5493519
+SHUFFLE	COMPRESS_BYTE_COUNT	1706425
+SHUFFLE	COPY_MAP_DATA	144644000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5549244
+SHUFFLE	COMPRESS_BYTE_COUNT	1724888
+SHUFFLE	COPY_MAP_DATA	89010000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5590572
+SHUFFLE	COMPRESS_BYTE_COUNT	1716006
+SHUFFLE	COPY_MAP_DATA	96039000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5534285
+SHUFFLE	COMPRESS_BYTE_COUNT	1719272
+SHUFFLE	COPY_MAP_DATA	94892000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5508901
+SHUFFLE	COMPRESS_BYTE_COUNT	1690466
+SHUFFLE	COPY_MAP_DATA	2698977000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5464939
+SHUFFLE	COMPRESS_BYTE_COUNT	1699808
+SHUFFLE	COPY_MAP_DATA	1894137000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5562125
+SHUFFLE	COMPRESS_BYTE_COUNT	1727917
+SHUFFLE	COPY_MAP_DATA	113758000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5509193
+SHUFFLE	COMPRESS_BYTE_COUNT	1711138
+SHUFFLE	COPY_MAP_DATA	117549000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5563560
+SHUFFLE	COMPRESS_BYTE_COUNT	1728422
+SHUFFLE	COPY_MAP_DATA	114471000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5524017
+SHUFFLE	COMPRESS_BYTE_COUNT	1717169
+SHUFFLE	COPY_MAP_DATA	91426000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5529630
+SHUFFLE	COMPRESS_BYTE_COUNT	1719294
+SHUFFLE	COPY_MAP_DATA	152506000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5574260
+SHUFFLE	COMPRESS_BYTE_COUNT	1733096
+SHUFFLE	COPY_MAP_DATA	237253000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5512099
+SHUFFLE	COMPRESS_BYTE_COUNT	1714544
+SHUFFLE	COPY_MAP_DATA	1342347000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5461136
+SHUFFLE	COMPRESS_BYTE_COUNT	1698125
+SHUFFLE	COPY_MAP_DATA	145367000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5572647
+SHUFFLE	COMPRESS_BYTE_COUNT	1731875
+SHUFFLE	COPY_MAP_DATA	152554000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5441589
+SHUFFLE	COMPRESS_BYTE_COUNT	1692364
+SHUFFLE	COPY_MAP_DATA	3703842000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5512976
+SHUFFLE	COMPRESS_BYTE_COUNT	1713910
+SHUFFLE	COPY_MAP_DATA	1394709000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5521206
+SHUFFLE	COMPRESS_BYTE_COUNT	1715983
+SHUFFLE	COPY_MAP_DATA	98033000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5457860
+SHUFFLE	COMPRESS_BYTE_COUNT	1696861
+SHUFFLE	COPY_MAP_DATA	90731000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5555514
+SHUFFLE	COMPRESS_BYTE_COUNT	1729719
+SHUFFLE	COPY_MAP_DATA	539708000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5562076
+SHUFFLE	COMPRESS_BYTE_COUNT	1732564
+SHUFFLE	COPY_MAP_DATA	259800000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5480229
+SHUFFLE	COMPRESS_BYTE_COUNT	1702507
+SHUFFLE	COPY_MAP_DATA	249647000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5602705
+SHUFFLE	COMPRESS_BYTE_COUNT	1728943
+SHUFFLE	COPY_MAP_DATA	84395000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5564784
+SHUFFLE	COMPRESS_BYTE_COUNT	1731329
+SHUFFLE	COPY_MAP_DATA	550409000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5543626
+SHUFFLE	COMPRESS_BYTE_COUNT	1727651
+SHUFFLE	COPY_MAP_DATA	85129000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5586228
+SHUFFLE	COMPRESS_BYTE_COUNT	1724739
+SHUFFLE	COPY_MAP_DATA	504005000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5548730
+SHUFFLE	COMPRESS_BYTE_COUNT	1727276
+SHUFFLE	COPY_MAP_DATA	420108000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5572808
+SHUFFLE	COMPRESS_BYTE_COUNT	1734703
+SHUFFLE	COPY_MAP_DATA	140876000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5611522
+SHUFFLE	COMPRESS_BYTE_COUNT	1731860
+SHUFFLE	COPY_MAP_DATA	311683000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5537523
+SHUFFLE	COMPRESS_BYTE_COUNT	1724985
+SHUFFLE	COPY_MAP_DATA	1280091000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5594831
+SHUFFLE	COMPRESS_BYTE_COUNT	1726969
+SHUFFLE	COPY_MAP_DATA	1604936000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5509783
+SHUFFLE	COMPRESS_BYTE_COUNT	1712992
+SHUFFLE	COPY_MAP_DATA	87380000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5584909
+SHUFFLE	COMPRESS_BYTE_COUNT	1724925
+SHUFFLE	COPY_MAP_DATA	1850359000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5492301
+SHUFFLE	COMPRESS_BYTE_COUNT	1707739
+SHUFFLE	COPY_MAP_DATA	355399000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4709999
+SHUFFLE	COMPRESS_BYTE_COUNT	1446221
+SHUFFLE	COPY_MAP_DATA	75459000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4693173
+SHUFFLE	COMPRESS_BYTE_COUNT	1440759
+SHUFFLE	COPY_MAP_DATA	120385000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5557969
+SHUFFLE	COMPRESS_BYTE_COUNT	1731126
+SHUFFLE	COPY_MAP_DATA	957637000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4453499
+SHUFFLE	COMPRESS_BYTE_COUNT	1383876
+SHUFFLE	COPY_MAP_DATA	174722000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4419318
+SHUFFLE	COMPRESS_BYTE_COUNT	1374359
+SHUFFLE	COPY_MAP_DATA	559908000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5589462
+SHUFFLE	COMPRESS_BYTE_COUNT	1726234
+SHUFFLE	COPY_MAP_DATA	127735000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4710632
+SHUFFLE	COMPRESS_BYTE_COUNT	1446371
+SHUFFLE	COPY_MAP_DATA	71052000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5549923
+SHUFFLE	COMPRESS_BYTE_COUNT	1729104
+SHUFFLE	COPY_MAP_DATA	288757000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5590643
+SHUFFLE	COMPRESS_BYTE_COUNT	1726503
+SHUFFLE	COPY_MAP_DATA	280754000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5515833
+SHUFFLE	COMPRESS_BYTE_COUNT	1734999
+SHUFFLE	COPY_MAP_DATA	555432000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5607248
+SHUFFLE	COMPRESS_BYTE_COUNT	1731056
+SHUFFLE	COPY_MAP_DATA	464192000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5595621
+SHUFFLE	COMPRESS_BYTE_COUNT	1726308
+SHUFFLE	COPY_MAP_DATA	1183496000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5548955
+SHUFFLE	COMPRESS_BYTE_COUNT	1728763
+SHUFFLE	COPY_MAP_DATA	139981000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4517548
+SHUFFLE	COMPRESS_BYTE_COUNT	1403787
+SHUFFLE	COPY_MAP_DATA	85668000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5510113
+SHUFFLE	COMPRESS_BYTE_COUNT	1747627
+SHUFFLE	COPY_MAP_DATA	953451000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4421731
+SHUFFLE	COMPRESS_BYTE_COUNT	1374625
+SHUFFLE	COPY_MAP_DATA	229251000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5604566
+SHUFFLE	COMPRESS_BYTE_COUNT	1729783
+SHUFFLE	COPY_MAP_DATA	307084000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1732486
+SHUFFLE	COMPRESS_BYTE_COUNT	536232
+SHUFFLE	COPY_MAP_DATA	242141000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5583207
+SHUFFLE	COMPRESS_BYTE_COUNT	1723457
+SHUFFLE	COPY_MAP_DATA	105722000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5610437
+SHUFFLE	COMPRESS_BYTE_COUNT	1731202
+SHUFFLE	COPY_MAP_DATA	141658000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5548226
+SHUFFLE	COMPRESS_BYTE_COUNT	1728634
+SHUFFLE	COPY_MAP_DATA	160483000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5598022
+SHUFFLE	COMPRESS_BYTE_COUNT	1728281
+SHUFFLE	COPY_MAP_DATA	320100000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1736205
+SHUFFLE	COMPRESS_BYTE_COUNT	536962
+SHUFFLE	COPY_MAP_DATA	30462000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4749116
+SHUFFLE	COMPRESS_BYTE_COUNT	1457635
+SHUFFLE	COPY_MAP_DATA	1495052000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4737704
+SHUFFLE	COMPRESS_BYTE_COUNT	1454094
+SHUFFLE	COPY_MAP_DATA	78653000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4516003
+SHUFFLE	COMPRESS_BYTE_COUNT	1403622
+SHUFFLE	COPY_MAP_DATA	89162000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5555479
+SHUFFLE	COMPRESS_BYTE_COUNT	1730596
+SHUFFLE	COPY_MAP_DATA	90630000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4426462
+SHUFFLE	COMPRESS_BYTE_COUNT	1376263
+SHUFFLE	COPY_MAP_DATA	100852000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4433623
+SHUFFLE	COMPRESS_BYTE_COUNT	1377282
+SHUFFLE	COPY_MAP_DATA	108645000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1734027
+SHUFFLE	COMPRESS_BYTE_COUNT	537201
+SHUFFLE	COPY_MAP_DATA	30339000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4700047
+SHUFFLE	COMPRESS_BYTE_COUNT	1443780
+SHUFFLE	COPY_MAP_DATA	86737000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5558819
+SHUFFLE	COMPRESS_BYTE_COUNT	1731261
+SHUFFLE	COPY_MAP_DATA	215614000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1661490
+SHUFFLE	COMPRESS_BYTE_COUNT	518430
+SHUFFLE	COPY_MAP_DATA	35045000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1739265
+SHUFFLE	COMPRESS_BYTE_COUNT	537946
+SHUFFLE	COPY_MAP_DATA	32107000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4737887
+SHUFFLE	COMPRESS_BYTE_COUNT	1453391
+SHUFFLE	COPY_MAP_DATA	429911000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5558621
+SHUFFLE	COMPRESS_BYTE_COUNT	1731218
+SHUFFLE	COPY_MAP_DATA	821607000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4477090
+SHUFFLE	COMPRESS_BYTE_COUNT	1391511
+SHUFFLE	COPY_MAP_DATA	98038000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4395383
+SHUFFLE	COMPRESS_BYTE_COUNT	1367150
+SHUFFLE	COPY_MAP_DATA	70196000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1663920
+SHUFFLE	COMPRESS_BYTE_COUNT	519759
+SHUFFLE	COPY_MAP_DATA	63451000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4729827
+SHUFFLE	COMPRESS_BYTE_COUNT	1451758
+SHUFFLE	COPY_MAP_DATA	94898000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1737441
+SHUFFLE	COMPRESS_BYTE_COUNT	537467
+SHUFFLE	COPY_MAP_DATA	304595000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1738456
+SHUFFLE	COMPRESS_BYTE_COUNT	537694
+SHUFFLE	COPY_MAP_DATA	212665000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1737824
+SHUFFLE	COMPRESS_BYTE_COUNT	537629
+SHUFFLE	COPY_MAP_DATA	63269000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4746598
+SHUFFLE	COMPRESS_BYTE_COUNT	1456842
+SHUFFLE	COPY_MAP_DATA	568753000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4778723
+SHUFFLE	COMPRESS_BYTE_COUNT	1466302
+SHUFFLE	COPY_MAP_DATA	205018000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5538941
+SHUFFLE	COMPRESS_BYTE_COUNT	1725066
+SHUFFLE	COPY_MAP_DATA	307800000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1739277
+SHUFFLE	COMPRESS_BYTE_COUNT	537720
+SHUFFLE	COPY_MAP_DATA	165262000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4152808
+SHUFFLE	COMPRESS_BYTE_COUNT	1308048
+SHUFFLE	COPY_MAP_DATA	67118000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4752708
+SHUFFLE	COMPRESS_BYTE_COUNT	1460196
+SHUFFLE	COPY_MAP_DATA	94690000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4484177
+SHUFFLE	COMPRESS_BYTE_COUNT	1393851
+SHUFFLE	COPY_MAP_DATA	71492000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1737013
+SHUFFLE	COMPRESS_BYTE_COUNT	537423
+SHUFFLE	COPY_MAP_DATA	50774000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4725484
+SHUFFLE	COMPRESS_BYTE_COUNT	1450531
+SHUFFLE	COPY_MAP_DATA	146804000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1735265
+SHUFFLE	COMPRESS_BYTE_COUNT	536846
+SHUFFLE	COPY_MAP_DATA	152559000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4437214
+SHUFFLE	COMPRESS_BYTE_COUNT	1379203
+SHUFFLE	COPY_MAP_DATA	130216000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1671759
+SHUFFLE	COMPRESS_BYTE_COUNT	520653
+SHUFFLE	COPY_MAP_DATA	29936000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1663093
+SHUFFLE	COMPRESS_BYTE_COUNT	519387
+SHUFFLE	COPY_MAP_DATA	27938000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1662363
+SHUFFLE	COMPRESS_BYTE_COUNT	518937
+SHUFFLE	COPY_MAP_DATA	28876000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1671256
+SHUFFLE	COMPRESS_BYTE_COUNT	521805
+SHUFFLE	COPY_MAP_DATA	29553000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1734297
+SHUFFLE	COMPRESS_BYTE_COUNT	535964
+SHUFFLE	COPY_MAP_DATA	64020000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1663030
+SHUFFLE	COMPRESS_BYTE_COUNT	519062
+SHUFFLE	COPY_MAP_DATA	28007000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1730519
+SHUFFLE	COMPRESS_BYTE_COUNT	535050
+SHUFFLE	COPY_MAP_DATA	57261000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1735823
+SHUFFLE	COMPRESS_BYTE_COUNT	536481
+SHUFFLE	COPY_MAP_DATA	824333000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4304343
+SHUFFLE	COMPRESS_BYTE_COUNT	1338233
+SHUFFLE	COPY_MAP_DATA	836969000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1662180
+SHUFFLE	COMPRESS_BYTE_COUNT	518408
+SHUFFLE	COPY_MAP_DATA	54487000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1659241
+SHUFFLE	COMPRESS_BYTE_COUNT	517247
+SHUFFLE	COPY_MAP_DATA	28741000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1671470
+SHUFFLE	COMPRESS_BYTE_COUNT	521776
+SHUFFLE	COPY_MAP_DATA	28394000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1626168
+SHUFFLE	COMPRESS_BYTE_COUNT	507753
+SHUFFLE	COPY_MAP_DATA	39470000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4424779
+SHUFFLE	COMPRESS_BYTE_COUNT	1375667
+SHUFFLE	COPY_MAP_DATA	1027757000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4696134
+SHUFFLE	COMPRESS_BYTE_COUNT	1442098
+SHUFFLE	COPY_MAP_DATA	463354000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1659807
+SHUFFLE	COMPRESS_BYTE_COUNT	517715
+SHUFFLE	COPY_MAP_DATA	29037000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1698450
+SHUFFLE	COMPRESS_BYTE_COUNT	525182
+SHUFFLE	COPY_MAP_DATA	51199000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1660530
+SHUFFLE	COMPRESS_BYTE_COUNT	518598
+SHUFFLE	COPY_MAP_DATA	28675000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1663289
+SHUFFLE	COMPRESS_BYTE_COUNT	519489
+SHUFFLE	COPY_MAP_DATA	135788000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4435284
+SHUFFLE	COMPRESS_BYTE_COUNT	1377124
+SHUFFLE	COPY_MAP_DATA	87645000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1668552
+SHUFFLE	COMPRESS_BYTE_COUNT	519937
+SHUFFLE	COPY_MAP_DATA	36992000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1585744
+SHUFFLE	COMPRESS_BYTE_COUNT	500813
+SHUFFLE	COPY_MAP_DATA	27147000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4580495
+SHUFFLE	COMPRESS_BYTE_COUNT	1406791
+SHUFFLE	COPY_MAP_DATA	100830000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4500646
+SHUFFLE	COMPRESS_BYTE_COUNT	1398926
+SHUFFLE	COPY_MAP_DATA	95039000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	494396527000
+MERGE	READ_WRITE	489928085000
+MERGE	READ_WRITE_COUNT	8
+MERGE	COMBINE	0
+MERGE	WRITE	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	7086589000
+SORT	READ_WRITE	6877555000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	195895296
+REDUCE	SETUP	935000
+REDUCE	SETUP_MEM	195895296
+REDUCE	CLEANUP	43000
+REDUCE	CLEANUP_MEM	219890440
+REDUCE	TOTAL_RUN	585533882669
+REDUCE	READ	58762149000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	516809311669
+REDUCE	WRITE	152116655071
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	55871023
+REDUCE	VALUE_BYTE_COUNT	1647409298
+REDUCE	REDUCE_MEM	219890440
+REDUCE	WRITE	190538000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	1282657170597
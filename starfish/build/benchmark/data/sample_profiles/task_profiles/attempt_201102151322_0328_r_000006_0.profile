@@ -0,0 +1,989 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5594064
+SHUFFLE	COMPRESS_BYTE_COUNT	1738732
+SHUFFLE	COPY_MAP_DATA	733565000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5469745
+SHUFFLE	COMPRESS_BYTE_COUNT	1700022
+SHUFFLE	COPY_MAP_DATA	160188000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5507399
+SHUFFLE	COMPRESS_BYTE_COUNT	1711256
+SHUFFLE	COPY_MAP_DATA	122934000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5547877
+SHUFFLE	COMPRESS_BYTE_COUNT	1724671
+SHUFFLE	COPY_MAP_DATA	103229000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5503951
+SHUFFLE	COMPRESS_BYTE_COUNT	1732751
+SHUFFLE	COPY_MAP_DATA	164791000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5477945
+SHUFFLE	COMPRESS_BYTE_COUNT	1702809
+SHUFFLE	COPY_MAP_DATA	223288000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5496329
+SHUFFLE	COMPRESS_BYTE_COUNT	1731370
+SHUFFLE	COPY_MAP_DATA	117107000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5545596
+SHUFFLE	COMPRESS_BYTE_COUNT	1722576
+SHUFFLE	COPY_MAP_DATA	120276000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5484614
+SHUFFLE	COMPRESS_BYTE_COUNT	1704394
+SHUFFLE	COPY_MAP_DATA	1929720000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5574978
+SHUFFLE	COMPRESS_BYTE_COUNT	1731837
+SHUFFLE	COPY_MAP_DATA	236288000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5518903
+SHUFFLE	COMPRESS_BYTE_COUNT	1714777
+SHUFFLE	COPY_MAP_DATA	98577000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5479781
+SHUFFLE	COMPRESS_BYTE_COUNT	1703051
+SHUFFLE	COPY_MAP_DATA	119888000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5528209
+SHUFFLE	COMPRESS_BYTE_COUNT	1717753
+SHUFFLE	COPY_MAP_DATA	140379000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5495874
+SHUFFLE	COMPRESS_BYTE_COUNT	1707888
+SHUFFLE	COPY_MAP_DATA	156023000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5537385
+SHUFFLE	COMPRESS_BYTE_COUNT	1720687
+SHUFFLE	COPY_MAP_DATA	238257000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5488688
+SHUFFLE	COMPRESS_BYTE_COUNT	1705289
+SHUFFLE	COPY_MAP_DATA	96759000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5544327
+SHUFFLE	COMPRESS_BYTE_COUNT	1724430
+SHUFFLE	COPY_MAP_DATA	102412000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5529255
+SHUFFLE	COMPRESS_BYTE_COUNT	1717808
+SHUFFLE	COPY_MAP_DATA	137461000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5566048
+SHUFFLE	COMPRESS_BYTE_COUNT	1708845
+SHUFFLE	COPY_MAP_DATA	261654000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5499232
+SHUFFLE	COMPRESS_BYTE_COUNT	1731552
+SHUFFLE	COPY_MAP_DATA	113202000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5574301
+SHUFFLE	COMPRESS_BYTE_COUNT	1732382
+SHUFFLE	COPY_MAP_DATA	86195000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5462434
+SHUFFLE	COMPRESS_BYTE_COUNT	1698579
+SHUFFLE	COPY_MAP_DATA	113818000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5522927
+SHUFFLE	COMPRESS_BYTE_COUNT	1715583
+SHUFFLE	COPY_MAP_DATA	252975000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5494515
+SHUFFLE	COMPRESS_BYTE_COUNT	1707856
+SHUFFLE	COPY_MAP_DATA	231189000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5517928
+SHUFFLE	COMPRESS_BYTE_COUNT	1714174
+SHUFFLE	COPY_MAP_DATA	194423000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5506596
+SHUFFLE	COMPRESS_BYTE_COUNT	1710155
+SHUFFLE	COPY_MAP_DATA	214454000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5513519
+SHUFFLE	COMPRESS_BYTE_COUNT	1714307
+SHUFFLE	COPY_MAP_DATA	601533000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5535322
+SHUFFLE	COMPRESS_BYTE_COUNT	1742643
+SHUFFLE	COPY_MAP_DATA	8665834000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5516977
+SHUFFLE	COMPRESS_BYTE_COUNT	1715372
+SHUFFLE	COPY_MAP_DATA	345463000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5459209
+SHUFFLE	COMPRESS_BYTE_COUNT	1746231
+SHUFFLE	COPY_MAP_DATA	107701000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5450995
+SHUFFLE	COMPRESS_BYTE_COUNT	1694421
+SHUFFLE	COPY_MAP_DATA	86073000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5549059
+SHUFFLE	COMPRESS_BYTE_COUNT	1703384
+SHUFFLE	COPY_MAP_DATA	86476000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5482009
+SHUFFLE	COMPRESS_BYTE_COUNT	1703509
+SHUFFLE	COPY_MAP_DATA	778074000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5575503
+SHUFFLE	COMPRESS_BYTE_COUNT	1711813
+SHUFFLE	COPY_MAP_DATA	86588000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5583128
+SHUFFLE	COMPRESS_BYTE_COUNT	1714461
+SHUFFLE	COPY_MAP_DATA	111115000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5514337
+SHUFFLE	COMPRESS_BYTE_COUNT	1713344
+SHUFFLE	COPY_MAP_DATA	105368000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5541398
+SHUFFLE	COMPRESS_BYTE_COUNT	1723859
+SHUFFLE	COPY_MAP_DATA	117273000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5630960
+SHUFFLE	COMPRESS_BYTE_COUNT	1727636
+SHUFFLE	COPY_MAP_DATA	89542000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5582605
+SHUFFLE	COMPRESS_BYTE_COUNT	1713291
+SHUFFLE	COPY_MAP_DATA	205827000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5563328
+SHUFFLE	COMPRESS_BYTE_COUNT	1729548
+SHUFFLE	COPY_MAP_DATA	1030297000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5511209
+SHUFFLE	COMPRESS_BYTE_COUNT	1712236
+SHUFFLE	COPY_MAP_DATA	3360666000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5459210
+SHUFFLE	COMPRESS_BYTE_COUNT	1696941
+SHUFFLE	COPY_MAP_DATA	115378000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5532650
+SHUFFLE	COMPRESS_BYTE_COUNT	1698070
+SHUFFLE	COPY_MAP_DATA	312271000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5494406
+SHUFFLE	COMPRESS_BYTE_COUNT	1708668
+SHUFFLE	COPY_MAP_DATA	125329000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5496863
+SHUFFLE	COMPRESS_BYTE_COUNT	1709024
+SHUFFLE	COPY_MAP_DATA	520971000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5557138
+SHUFFLE	COMPRESS_BYTE_COUNT	1728006
+SHUFFLE	COPY_MAP_DATA	1700326000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5479041
+SHUFFLE	COMPRESS_BYTE_COUNT	1725798
+SHUFFLE	COPY_MAP_DATA	115316000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5490802
+SHUFFLE	COMPRESS_BYTE_COUNT	1706326
+SHUFFLE	COPY_MAP_DATA	810391000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5480889
+SHUFFLE	COMPRESS_BYTE_COUNT	1704282
+SHUFFLE	COPY_MAP_DATA	8226486000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5588240
+SHUFFLE	COMPRESS_BYTE_COUNT	1714495
+SHUFFLE	COPY_MAP_DATA	98243000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5523703
+SHUFFLE	COMPRESS_BYTE_COUNT	1717438
+SHUFFLE	COPY_MAP_DATA	1221045000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5530960
+SHUFFLE	COMPRESS_BYTE_COUNT	1719618
+SHUFFLE	COPY_MAP_DATA	87090000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5596837
+SHUFFLE	COMPRESS_BYTE_COUNT	1717894
+SHUFFLE	COPY_MAP_DATA	1110177000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5526204
+SHUFFLE	COMPRESS_BYTE_COUNT	1715660
+SHUFFLE	COPY_MAP_DATA	159095000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5522841
+SHUFFLE	COMPRESS_BYTE_COUNT	1695510
+SHUFFLE	COPY_MAP_DATA	1359508000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5617033
+SHUFFLE	COMPRESS_BYTE_COUNT	1723384
+SHUFFLE	COPY_MAP_DATA	178411000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5516857
+SHUFFLE	COMPRESS_BYTE_COUNT	1714414
+SHUFFLE	COPY_MAP_DATA	1115473000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5600426
+SHUFFLE	COMPRESS_BYTE_COUNT	1719573
+SHUFFLE	COPY_MAP_DATA	1083122000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5540082
+SHUFFLE	COMPRESS_BYTE_COUNT	1700788
+SHUFFLE	COPY_MAP_DATA	563962000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5590375
+SHUFFLE	COMPRESS_BYTE_COUNT	1715614
+SHUFFLE	COPY_MAP_DATA	7937861000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5558993
+SHUFFLE	COMPRESS_BYTE_COUNT	1705206
+SHUFFLE	COPY_MAP_DATA	111297000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5553803
+SHUFFLE	COMPRESS_BYTE_COUNT	1704364
+SHUFFLE	COPY_MAP_DATA	96724000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5485860
+SHUFFLE	COMPRESS_BYTE_COUNT	1727160
+SHUFFLE	COPY_MAP_DATA	100680000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5576645
+SHUFFLE	COMPRESS_BYTE_COUNT	1711274
+SHUFFLE	COPY_MAP_DATA	90301000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5553310
+SHUFFLE	COMPRESS_BYTE_COUNT	1704011
+SHUFFLE	COPY_MAP_DATA	96264000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5430340
+SHUFFLE	COMPRESS_BYTE_COUNT	1710801
+SHUFFLE	COPY_MAP_DATA	121469000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5514274
+SHUFFLE	COMPRESS_BYTE_COUNT	1692512
+SHUFFLE	COPY_MAP_DATA	565793000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5622409
+SHUFFLE	COMPRESS_BYTE_COUNT	1727283
+SHUFFLE	COPY_MAP_DATA	92835000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5470720
+SHUFFLE	COMPRESS_BYTE_COUNT	1679489
+SHUFFLE	COPY_MAP_DATA	83726000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5539074
+SHUFFLE	COMPRESS_BYTE_COUNT	1700345
+SHUFFLE	COPY_MAP_DATA	117596000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5563971
+SHUFFLE	COMPRESS_BYTE_COUNT	1707230
+SHUFFLE	COPY_MAP_DATA	170597000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5560264
+SHUFFLE	COMPRESS_BYTE_COUNT	1706797
+SHUFFLE	COPY_MAP_DATA	1372977000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5522781
+SHUFFLE	COMPRESS_BYTE_COUNT	1696389
+SHUFFLE	COPY_MAP_DATA	353547000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5542560
+SHUFFLE	COMPRESS_BYTE_COUNT	1702091
+SHUFFLE	COPY_MAP_DATA	1148597000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5540945
+SHUFFLE	COMPRESS_BYTE_COUNT	1700371
+SHUFFLE	COPY_MAP_DATA	948582000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5537057
+SHUFFLE	COMPRESS_BYTE_COUNT	1698329
+SHUFFLE	COPY_MAP_DATA	261792000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5521638
+SHUFFLE	COMPRESS_BYTE_COUNT	1735517
+SHUFFLE	COPY_MAP_DATA	7607420000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5535120
+SHUFFLE	COMPRESS_BYTE_COUNT	1699175
+SHUFFLE	COPY_MAP_DATA	196445000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5545659
+SHUFFLE	COMPRESS_BYTE_COUNT	1701799
+SHUFFLE	COPY_MAP_DATA	247045000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5616024
+SHUFFLE	COMPRESS_BYTE_COUNT	1723304
+SHUFFLE	COPY_MAP_DATA	213041000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5583825
+SHUFFLE	COMPRESS_BYTE_COUNT	1713087
+SHUFFLE	COPY_MAP_DATA	185786000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5547870
+SHUFFLE	COMPRESS_BYTE_COUNT	1703110
+SHUFFLE	COPY_MAP_DATA	83325000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5545660
+SHUFFLE	COMPRESS_BYTE_COUNT	1702534
+SHUFFLE	COPY_MAP_DATA	251025000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5541131
+SHUFFLE	COMPRESS_BYTE_COUNT	1700129
+SHUFFLE	COPY_MAP_DATA	10536596000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5533155
+SHUFFLE	COMPRESS_BYTE_COUNT	1698941
+SHUFFLE	COPY_MAP_DATA	99519000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5574843
+SHUFFLE	COMPRESS_BYTE_COUNT	1710539
+SHUFFLE	COPY_MAP_DATA	2850297000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5501566
+SHUFFLE	COMPRESS_BYTE_COUNT	1689529
+SHUFFLE	COPY_MAP_DATA	97546000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5542403
+SHUFFLE	COMPRESS_BYTE_COUNT	1701969
+SHUFFLE	COPY_MAP_DATA	88103000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5490660
+SHUFFLE	COMPRESS_BYTE_COUNT	1686129
+SHUFFLE	COPY_MAP_DATA	99204000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5518157
+SHUFFLE	COMPRESS_BYTE_COUNT	1693911
+SHUFFLE	COPY_MAP_DATA	196780000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5505266
+SHUFFLE	COMPRESS_BYTE_COUNT	1690488
+SHUFFLE	COPY_MAP_DATA	295955000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5548199
+SHUFFLE	COMPRESS_BYTE_COUNT	1703041
+SHUFFLE	COPY_MAP_DATA	2667719000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5549842
+SHUFFLE	COMPRESS_BYTE_COUNT	1703134
+SHUFFLE	COPY_MAP_DATA	97482000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5546608
+SHUFFLE	COMPRESS_BYTE_COUNT	1703064
+SHUFFLE	COPY_MAP_DATA	87957000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5577691
+SHUFFLE	COMPRESS_BYTE_COUNT	1711431
+SHUFFLE	COPY_MAP_DATA	90616000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5543096
+SHUFFLE	COMPRESS_BYTE_COUNT	1702472
+SHUFFLE	COPY_MAP_DATA	112129000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5527963
+SHUFFLE	COMPRESS_BYTE_COUNT	1697048
+SHUFFLE	COPY_MAP_DATA	108771000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5507651
+SHUFFLE	COMPRESS_BYTE_COUNT	1711231
+SHUFFLE	COPY_MAP_DATA	973502000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5544635
+SHUFFLE	COMPRESS_BYTE_COUNT	1701866
+SHUFFLE	COPY_MAP_DATA	96416000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5497849
+SHUFFLE	COMPRESS_BYTE_COUNT	1708689
+SHUFFLE	COPY_MAP_DATA	86408000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5562053
+SHUFFLE	COMPRESS_BYTE_COUNT	1708167
+SHUFFLE	COPY_MAP_DATA	96931000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5504029
+SHUFFLE	COMPRESS_BYTE_COUNT	1710426
+SHUFFLE	COPY_MAP_DATA	358493000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5534641
+SHUFFLE	COMPRESS_BYTE_COUNT	1699185
+SHUFFLE	COPY_MAP_DATA	588314000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5585774
+SHUFFLE	COMPRESS_BYTE_COUNT	1714870
+SHUFFLE	COPY_MAP_DATA	230968000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5583491
+SHUFFLE	COMPRESS_BYTE_COUNT	1713154
+SHUFFLE	COPY_MAP_DATA	800124000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5557347
+SHUFFLE	COMPRESS_BYTE_COUNT	1707850
+SHUFFLE	COPY_MAP_DATA	702543000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5638913
+SHUFFLE	COMPRESS_BYTE_COUNT	1730285
+SHUFFLE	COPY_MAP_DATA	8991145000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5502432
+SHUFFLE	COMPRESS_BYTE_COUNT	1689467
+SHUFFLE	COPY_MAP_DATA	634812000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5591504
+SHUFFLE	COMPRESS_BYTE_COUNT	1737665
+SHUFFLE	COPY_MAP_DATA	154343000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5487772
+SHUFFLE	COMPRESS_BYTE_COUNT	1684706
+SHUFFLE	COPY_MAP_DATA	2661033000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5603378
+SHUFFLE	COMPRESS_BYTE_COUNT	1719123
+SHUFFLE	COPY_MAP_DATA	806082000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5608641
+SHUFFLE	COMPRESS_BYTE_COUNT	1721088
+SHUFFLE	COPY_MAP_DATA	199299000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5540573
+SHUFFLE	COMPRESS_BYTE_COUNT	1700519
+SHUFFLE	COPY_MAP_DATA	168939000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5603732
+SHUFFLE	COMPRESS_BYTE_COUNT	1719349
+SHUFFLE	COPY_MAP_DATA	2619669000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5554514
+SHUFFLE	COMPRESS_BYTE_COUNT	1704495
+SHUFFLE	COPY_MAP_DATA	82386000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5546316
+SHUFFLE	COMPRESS_BYTE_COUNT	1701589
+SHUFFLE	COPY_MAP_DATA	2006402000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5510425
+SHUFFLE	COMPRESS_BYTE_COUNT	1713180
+SHUFFLE	COPY_MAP_DATA	94277000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5500798
+SHUFFLE	COMPRESS_BYTE_COUNT	1709352
+SHUFFLE	COPY_MAP_DATA	319666000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5568917
+SHUFFLE	COMPRESS_BYTE_COUNT	1730713
+SHUFFLE	COPY_MAP_DATA	125891000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5455797
+SHUFFLE	COMPRESS_BYTE_COUNT	1695798
+SHUFFLE	COPY_MAP_DATA	209405000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5578751
+SHUFFLE	COMPRESS_BYTE_COUNT	1711869
+SHUFFLE	COPY_MAP_DATA	578942000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5486900
+SHUFFLE	COMPRESS_BYTE_COUNT	1704477
+SHUFFLE	COPY_MAP_DATA	301486000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5493651
+SHUFFLE	COMPRESS_BYTE_COUNT	1706919
+SHUFFLE	COPY_MAP_DATA	149405000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5472327
+SHUFFLE	COMPRESS_BYTE_COUNT	1700228
+SHUFFLE	COPY_MAP_DATA	99037000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5546271
+SHUFFLE	COMPRESS_BYTE_COUNT	1723718
+SHUFFLE	COPY_MAP_DATA	108389000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5510049
+SHUFFLE	COMPRESS_BYTE_COUNT	1712161
+SHUFFLE	COPY_MAP_DATA	85668000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5506880
+SHUFFLE	COMPRESS_BYTE_COUNT	1710556
+SHUFFLE	COPY_MAP_DATA	265285000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5451465
+SHUFFLE	COMPRESS_BYTE_COUNT	1695130
+SHUFFLE	COPY_MAP_DATA	87915000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5520230
+SHUFFLE	COMPRESS_BYTE_COUNT	1715843
+SHUFFLE	COPY_MAP_DATA	307849000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5537979
+SHUFFLE	COMPRESS_BYTE_COUNT	1720837
+SHUFFLE	COPY_MAP_DATA	106841000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5614823
+SHUFFLE	COMPRESS_BYTE_COUNT	1722991
+SHUFFLE	COPY_MAP_DATA	108793000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5553152
+SHUFFLE	COMPRESS_BYTE_COUNT	1727035
+SHUFFLE	COPY_MAP_DATA	462637000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5458073
+SHUFFLE	COMPRESS_BYTE_COUNT	1697552
+SHUFFLE	COPY_MAP_DATA	2900428000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5616776
+SHUFFLE	COMPRESS_BYTE_COUNT	1723876
+SHUFFLE	COPY_MAP_DATA	88133000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5555730
+SHUFFLE	COMPRESS_BYTE_COUNT	1725405
+SHUFFLE	COPY_MAP_DATA	1388049000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5476305
+SHUFFLE	COMPRESS_BYTE_COUNT	1704163
+SHUFFLE	COPY_MAP_DATA	112167000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5538319
+SHUFFLE	COMPRESS_BYTE_COUNT	1721808
+SHUFFLE	COPY_MAP_DATA	89389000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5490351
+SHUFFLE	COMPRESS_BYTE_COUNT	1707473
+SHUFFLE	COPY_MAP_DATA	98278000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5471884
+SHUFFLE	COMPRESS_BYTE_COUNT	1701304
+SHUFFLE	COPY_MAP_DATA	2243608000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5521015
+SHUFFLE	COMPRESS_BYTE_COUNT	1715588
+SHUFFLE	COPY_MAP_DATA	174594000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5482530
+SHUFFLE	COMPRESS_BYTE_COUNT	1704849
+SHUFFLE	COPY_MAP_DATA	91127000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5507495
+SHUFFLE	COMPRESS_BYTE_COUNT	1712664
+SHUFFLE	COPY_MAP_DATA	230054000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5523891
+SHUFFLE	COMPRESS_BYTE_COUNT	1716993
+SHUFFLE	COPY_MAP_DATA	217374000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5559949
+SHUFFLE	COMPRESS_BYTE_COUNT	1727618
+SHUFFLE	COPY_MAP_DATA	383696000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5553986
+SHUFFLE	COMPRESS_BYTE_COUNT	1727959
+SHUFFLE	COPY_MAP_DATA	111986000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5508315
+SHUFFLE	COMPRESS_BYTE_COUNT	1711246
+SHUFFLE	COPY_MAP_DATA	142384000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5491324
+SHUFFLE	COMPRESS_BYTE_COUNT	1707237
+SHUFFLE	COPY_MAP_DATA	277440000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5542450
+SHUFFLE	COMPRESS_BYTE_COUNT	1728183
+SHUFFLE	COPY_MAP_DATA	97695000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5558078
+SHUFFLE	COMPRESS_BYTE_COUNT	1731638
+SHUFFLE	COPY_MAP_DATA	1127789000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5559751
+SHUFFLE	COMPRESS_BYTE_COUNT	1729830
+SHUFFLE	COPY_MAP_DATA	599788000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5556243
+SHUFFLE	COMPRESS_BYTE_COUNT	1731787
+SHUFFLE	COPY_MAP_DATA	92174000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5528007
+SHUFFLE	COMPRESS_BYTE_COUNT	1717979
+SHUFFLE	COPY_MAP_DATA	93256000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5596841
+SHUFFLE	COMPRESS_BYTE_COUNT	1727519
+SHUFFLE	COPY_MAP_DATA	103766000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5538240
+SHUFFLE	COMPRESS_BYTE_COUNT	1726069
+SHUFFLE	COPY_MAP_DATA	97880000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5592974
+SHUFFLE	COMPRESS_BYTE_COUNT	1726580
+SHUFFLE	COPY_MAP_DATA	109587000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5564701
+SHUFFLE	COMPRESS_BYTE_COUNT	1733568
+SHUFFLE	COPY_MAP_DATA	87158000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5613788
+SHUFFLE	COMPRESS_BYTE_COUNT	1731772
+SHUFFLE	COPY_MAP_DATA	120030000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5531625
+SHUFFLE	COMPRESS_BYTE_COUNT	1723543
+SHUFFLE	COPY_MAP_DATA	177026000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5579822
+SHUFFLE	COMPRESS_BYTE_COUNT	1722567
+SHUFFLE	COPY_MAP_DATA	93822000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5532512
+SHUFFLE	COMPRESS_BYTE_COUNT	1720308
+SHUFFLE	COPY_MAP_DATA	1955604000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5500648
+SHUFFLE	COMPRESS_BYTE_COUNT	1710204
+SHUFFLE	COPY_MAP_DATA	122436000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5587876
+SHUFFLE	COMPRESS_BYTE_COUNT	1723822
+SHUFFLE	COPY_MAP_DATA	1725014000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4667440
+SHUFFLE	COMPRESS_BYTE_COUNT	1432744
+SHUFFLE	COPY_MAP_DATA	445323000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5568103
+SHUFFLE	COMPRESS_BYTE_COUNT	1734479
+SHUFFLE	COPY_MAP_DATA	152343000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4438207
+SHUFFLE	COMPRESS_BYTE_COUNT	1379131
+SHUFFLE	COPY_MAP_DATA	174199000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4742856
+SHUFFLE	COMPRESS_BYTE_COUNT	1454567
+SHUFFLE	COPY_MAP_DATA	76252000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4442703
+SHUFFLE	COMPRESS_BYTE_COUNT	1381072
+SHUFFLE	COPY_MAP_DATA	394200000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5591002
+SHUFFLE	COMPRESS_BYTE_COUNT	1725441
+SHUFFLE	COPY_MAP_DATA	89913000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4712815
+SHUFFLE	COMPRESS_BYTE_COUNT	1446518
+SHUFFLE	COPY_MAP_DATA	85083000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5548653
+SHUFFLE	COMPRESS_BYTE_COUNT	1728219
+SHUFFLE	COPY_MAP_DATA	89443000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5595139
+SHUFFLE	COMPRESS_BYTE_COUNT	1727783
+SHUFFLE	COPY_MAP_DATA	302436000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5598581
+SHUFFLE	COMPRESS_BYTE_COUNT	1728775
+SHUFFLE	COPY_MAP_DATA	88147000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5514907
+SHUFFLE	COMPRESS_BYTE_COUNT	1735618
+SHUFFLE	COPY_MAP_DATA	110922000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5588528
+SHUFFLE	COMPRESS_BYTE_COUNT	1724238
+SHUFFLE	COPY_MAP_DATA	117841000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5555230
+SHUFFLE	COMPRESS_BYTE_COUNT	1730796
+SHUFFLE	COPY_MAP_DATA	510507000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5511198
+SHUFFLE	COMPRESS_BYTE_COUNT	1747203
+SHUFFLE	COPY_MAP_DATA	127293000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4480852
+SHUFFLE	COMPRESS_BYTE_COUNT	1393728
+SHUFFLE	COPY_MAP_DATA	93662000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4443836
+SHUFFLE	COMPRESS_BYTE_COUNT	1382692
+SHUFFLE	COPY_MAP_DATA	113265000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1741104
+SHUFFLE	COMPRESS_BYTE_COUNT	538075
+SHUFFLE	COPY_MAP_DATA	347234000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5583726
+SHUFFLE	COMPRESS_BYTE_COUNT	1723659
+SHUFFLE	COPY_MAP_DATA	97527000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5605908
+SHUFFLE	COMPRESS_BYTE_COUNT	1729797
+SHUFFLE	COPY_MAP_DATA	1451187000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5607282
+SHUFFLE	COMPRESS_BYTE_COUNT	1731244
+SHUFFLE	COPY_MAP_DATA	101916000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5549767
+SHUFFLE	COMPRESS_BYTE_COUNT	1728444
+SHUFFLE	COPY_MAP_DATA	106164000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5601217
+SHUFFLE	COMPRESS_BYTE_COUNT	1728820
+SHUFFLE	COPY_MAP_DATA	218230000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1732467
+SHUFFLE	COMPRESS_BYTE_COUNT	535267
+SHUFFLE	COPY_MAP_DATA	31202000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4740719
+SHUFFLE	COMPRESS_BYTE_COUNT	1455566
+SHUFFLE	COPY_MAP_DATA	127035000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4699042
+SHUFFLE	COMPRESS_BYTE_COUNT	1442539
+SHUFFLE	COPY_MAP_DATA	86518000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4460476
+SHUFFLE	COMPRESS_BYTE_COUNT	1386785
+SHUFFLE	COPY_MAP_DATA	76778000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4415068
+SHUFFLE	COMPRESS_BYTE_COUNT	1372415
+SHUFFLE	COPY_MAP_DATA	80349000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5553250
+SHUFFLE	COMPRESS_BYTE_COUNT	1730083
+SHUFFLE	COPY_MAP_DATA	111048000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4699258
+SHUFFLE	COMPRESS_BYTE_COUNT	1442694
+SHUFFLE	COPY_MAP_DATA	655788000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4426253
+SHUFFLE	COMPRESS_BYTE_COUNT	1375530
+SHUFFLE	COPY_MAP_DATA	869193000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5565200
+SHUFFLE	COMPRESS_BYTE_COUNT	1734031
+SHUFFLE	COPY_MAP_DATA	324274000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1740591
+SHUFFLE	COMPRESS_BYTE_COUNT	538113
+SHUFFLE	COPY_MAP_DATA	1730660000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1732217
+SHUFFLE	COMPRESS_BYTE_COUNT	536001
+SHUFFLE	COPY_MAP_DATA	50803000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1661094
+SHUFFLE	COMPRESS_BYTE_COUNT	518456
+SHUFFLE	COPY_MAP_DATA	28185000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4743964
+SHUFFLE	COMPRESS_BYTE_COUNT	1455937
+SHUFFLE	COPY_MAP_DATA	75745000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4469039
+SHUFFLE	COMPRESS_BYTE_COUNT	1389206
+SHUFFLE	COPY_MAP_DATA	3320490000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5561321
+SHUFFLE	COMPRESS_BYTE_COUNT	1732520
+SHUFFLE	COPY_MAP_DATA	510090000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4407834
+SHUFFLE	COMPRESS_BYTE_COUNT	1369777
+SHUFFLE	COPY_MAP_DATA	71961000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4746137
+SHUFFLE	COMPRESS_BYTE_COUNT	1456734
+SHUFFLE	COPY_MAP_DATA	234723000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1666433
+SHUFFLE	COMPRESS_BYTE_COUNT	519969
+SHUFFLE	COPY_MAP_DATA	1561619000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1739219
+SHUFFLE	COMPRESS_BYTE_COUNT	538474
+SHUFFLE	COPY_MAP_DATA	227525000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1742755
+SHUFFLE	COMPRESS_BYTE_COUNT	538277
+SHUFFLE	COPY_MAP_DATA	79206000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1742715
+SHUFFLE	COMPRESS_BYTE_COUNT	539321
+SHUFFLE	COPY_MAP_DATA	29204000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4733979
+SHUFFLE	COMPRESS_BYTE_COUNT	1453244
+SHUFFLE	COPY_MAP_DATA	224191000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1742381
+SHUFFLE	COMPRESS_BYTE_COUNT	538309
+SHUFFLE	COPY_MAP_DATA	292147000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5543309
+SHUFFLE	COMPRESS_BYTE_COUNT	1727425
+SHUFFLE	COPY_MAP_DATA	275461000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4652786
+SHUFFLE	COMPRESS_BYTE_COUNT	1427873
+SHUFFLE	COPY_MAP_DATA	82294000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4787350
+SHUFFLE	COMPRESS_BYTE_COUNT	1468548
+SHUFFLE	COPY_MAP_DATA	99613000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1739701
+SHUFFLE	COMPRESS_BYTE_COUNT	538410
+SHUFFLE	COPY_MAP_DATA	37461000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4172306
+SHUFFLE	COMPRESS_BYTE_COUNT	1313370
+SHUFFLE	COPY_MAP_DATA	75101000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4439518
+SHUFFLE	COMPRESS_BYTE_COUNT	1379829
+SHUFFLE	COPY_MAP_DATA	66701000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4796273
+SHUFFLE	COMPRESS_BYTE_COUNT	1472018
+SHUFFLE	COPY_MAP_DATA	183845000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1734380
+SHUFFLE	COMPRESS_BYTE_COUNT	536268
+SHUFFLE	COPY_MAP_DATA	61199000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1667297
+SHUFFLE	COMPRESS_BYTE_COUNT	520106
+SHUFFLE	COPY_MAP_DATA	27439000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4441019
+SHUFFLE	COMPRESS_BYTE_COUNT	1381160
+SHUFFLE	COPY_MAP_DATA	80825000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1663193
+SHUFFLE	COMPRESS_BYTE_COUNT	519461
+SHUFFLE	COPY_MAP_DATA	802048000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1670262
+SHUFFLE	COMPRESS_BYTE_COUNT	520610
+SHUFFLE	COPY_MAP_DATA	28562000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1733161
+SHUFFLE	COMPRESS_BYTE_COUNT	535416
+SHUFFLE	COPY_MAP_DATA	27786000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4298295
+SHUFFLE	COMPRESS_BYTE_COUNT	1336201
+SHUFFLE	COPY_MAP_DATA	69406000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1670874
+SHUFFLE	COMPRESS_BYTE_COUNT	521815
+SHUFFLE	COPY_MAP_DATA	28042000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1739279
+SHUFFLE	COMPRESS_BYTE_COUNT	537625
+SHUFFLE	COPY_MAP_DATA	426677000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1655722
+SHUFFLE	COMPRESS_BYTE_COUNT	516676
+SHUFFLE	COPY_MAP_DATA	27782000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1660151
+SHUFFLE	COMPRESS_BYTE_COUNT	518363
+SHUFFLE	COPY_MAP_DATA	45451000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1674224
+SHUFFLE	COMPRESS_BYTE_COUNT	521756
+SHUFFLE	COPY_MAP_DATA	156078000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1730495
+SHUFFLE	COMPRESS_BYTE_COUNT	534964
+SHUFFLE	COPY_MAP_DATA	27355000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1666344
+SHUFFLE	COMPRESS_BYTE_COUNT	519997
+SHUFFLE	COPY_MAP_DATA	220762000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4652136
+SHUFFLE	COMPRESS_BYTE_COUNT	1428701
+SHUFFLE	COPY_MAP_DATA	75574000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1658049
+SHUFFLE	COMPRESS_BYTE_COUNT	517867
+SHUFFLE	COPY_MAP_DATA	642680000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4401838
+SHUFFLE	COMPRESS_BYTE_COUNT	1367571
+SHUFFLE	COPY_MAP_DATA	562896000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1627978
+SHUFFLE	COMPRESS_BYTE_COUNT	507982
+SHUFFLE	COPY_MAP_DATA	82992000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1697976
+SHUFFLE	COMPRESS_BYTE_COUNT	524966
+SHUFFLE	COPY_MAP_DATA	457047000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1668403
+SHUFFLE	COMPRESS_BYTE_COUNT	520967
+SHUFFLE	COPY_MAP_DATA	390084000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1654991
+SHUFFLE	COMPRESS_BYTE_COUNT	516592
+SHUFFLE	COPY_MAP_DATA	26146000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4469234
+SHUFFLE	COMPRESS_BYTE_COUNT	1389334
+SHUFFLE	COPY_MAP_DATA	357914000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1659656
+SHUFFLE	COMPRESS_BYTE_COUNT	518111
+SHUFFLE	COPY_MAP_DATA	26044000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1583796
+SHUFFLE	COMPRESS_BYTE_COUNT	500645
+SHUFFLE	COPY_MAP_DATA	233777000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4562439
+SHUFFLE	COMPRESS_BYTE_COUNT	1401077
+SHUFFLE	COPY_MAP_DATA	99842000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4447674
+SHUFFLE	COMPRESS_BYTE_COUNT	1382549
+SHUFFLE	COPY_MAP_DATA	86052000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	452987693000
+MERGE	READ_WRITE	436244589000
+MERGE	READ_WRITE_COUNT	8
+MERGE	COMBINE	0
+MERGE	WRITE	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	8399792000
+SORT	READ_WRITE	8201530000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	221689088
+REDUCE	SETUP	431000
+REDUCE	SETUP_MEM	221689088
+REDUCE	CLEANUP	41000
+REDUCE	CLEANUP_MEM	205575320
+REDUCE	TOTAL_RUN	562609371659
+REDUCE	READ	20173130639
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	532740103020
+REDUCE	WRITE	297306654020
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	55912651
+REDUCE	VALUE_BYTE_COUNT	1648610251
+REDUCE	REDUCE_MEM	205575320
+REDUCE	WRITE	51033000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	1264929058451
@@ -0,0 +1,989 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5472625
+SHUFFLE	COMPRESS_BYTE_COUNT	1701277
+SHUFFLE	COPY_MAP_DATA	373179000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5525474
+SHUFFLE	COMPRESS_BYTE_COUNT	1716775
+SHUFFLE	COPY_MAP_DATA	244166000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5475378
+SHUFFLE	COMPRESS_BYTE_COUNT	1725224
+SHUFFLE	COPY_MAP_DATA	134264000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5541829
+SHUFFLE	COMPRESS_BYTE_COUNT	1721057
+SHUFFLE	COPY_MAP_DATA	216257000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5510030
+SHUFFLE	COMPRESS_BYTE_COUNT	1712355
+SHUFFLE	COPY_MAP_DATA	257010000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5507377
+SHUFFLE	COMPRESS_BYTE_COUNT	1711107
+SHUFFLE	COPY_MAP_DATA	254441000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5520287
+SHUFFLE	COMPRESS_BYTE_COUNT	1715074
+SHUFFLE	COPY_MAP_DATA	349212000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5485245
+SHUFFLE	COMPRESS_BYTE_COUNT	1705645
+SHUFFLE	COPY_MAP_DATA	212994000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5543508
+SHUFFLE	COMPRESS_BYTE_COUNT	1722218
+SHUFFLE	COPY_MAP_DATA	187057000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5471848
+SHUFFLE	COMPRESS_BYTE_COUNT	1700682
+SHUFFLE	COPY_MAP_DATA	129596000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5536724
+SHUFFLE	COMPRESS_BYTE_COUNT	1720445
+SHUFFLE	COPY_MAP_DATA	313655000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5528927
+SHUFFLE	COMPRESS_BYTE_COUNT	1718760
+SHUFFLE	COPY_MAP_DATA	93306000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5437235
+SHUFFLE	COMPRESS_BYTE_COUNT	1712773
+SHUFFLE	COPY_MAP_DATA	133050000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5558884
+SHUFFLE	COMPRESS_BYTE_COUNT	1728331
+SHUFFLE	COPY_MAP_DATA	286037000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5554626
+SHUFFLE	COMPRESS_BYTE_COUNT	1725962
+SHUFFLE	COPY_MAP_DATA	281392000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5565944
+SHUFFLE	COMPRESS_BYTE_COUNT	1729532
+SHUFFLE	COPY_MAP_DATA	137121000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5490622
+SHUFFLE	COMPRESS_BYTE_COUNT	1707336
+SHUFFLE	COPY_MAP_DATA	129960000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5580036
+SHUFFLE	COMPRESS_BYTE_COUNT	1733739
+SHUFFLE	COPY_MAP_DATA	100475000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5539372
+SHUFFLE	COMPRESS_BYTE_COUNT	1721746
+SHUFFLE	COPY_MAP_DATA	184679000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5519430
+SHUFFLE	COMPRESS_BYTE_COUNT	1715314
+SHUFFLE	COPY_MAP_DATA	89297000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5545238
+SHUFFLE	COMPRESS_BYTE_COUNT	1745173
+SHUFFLE	COPY_MAP_DATA	1590640000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5506662
+SHUFFLE	COMPRESS_BYTE_COUNT	1712176
+SHUFFLE	COPY_MAP_DATA	96001000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5507787
+SHUFFLE	COMPRESS_BYTE_COUNT	1712160
+SHUFFLE	COPY_MAP_DATA	115718000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5541828
+SHUFFLE	COMPRESS_BYTE_COUNT	1722240
+SHUFFLE	COPY_MAP_DATA	157826000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5533843
+SHUFFLE	COMPRESS_BYTE_COUNT	1720446
+SHUFFLE	COPY_MAP_DATA	552478000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5494054
+SHUFFLE	COMPRESS_BYTE_COUNT	1707682
+SHUFFLE	COPY_MAP_DATA	1260735000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5604811
+SHUFFLE	COMPRESS_BYTE_COUNT	1721127
+SHUFFLE	COPY_MAP_DATA	1270882000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5493777
+SHUFFLE	COMPRESS_BYTE_COUNT	1730135
+SHUFFLE	COPY_MAP_DATA	467899000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5517142
+SHUFFLE	COMPRESS_BYTE_COUNT	1714771
+SHUFFLE	COPY_MAP_DATA	96311000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5444538
+SHUFFLE	COMPRESS_BYTE_COUNT	1740722
+SHUFFLE	COPY_MAP_DATA	119632000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5480961
+SHUFFLE	COMPRESS_BYTE_COUNT	1702984
+SHUFFLE	COPY_MAP_DATA	501695000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5557199
+SHUFFLE	COMPRESS_BYTE_COUNT	1707259
+SHUFFLE	COPY_MAP_DATA	795001000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5474889
+SHUFFLE	COMPRESS_BYTE_COUNT	1700925
+SHUFFLE	COPY_MAP_DATA	301258000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5566703
+SHUFFLE	COMPRESS_BYTE_COUNT	1708241
+SHUFFLE	COPY_MAP_DATA	1712179000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5545659
+SHUFFLE	COMPRESS_BYTE_COUNT	1703070
+SHUFFLE	COPY_MAP_DATA	87321000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5557498
+SHUFFLE	COMPRESS_BYTE_COUNT	1706985
+SHUFFLE	COPY_MAP_DATA	119487000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5540723
+SHUFFLE	COMPRESS_BYTE_COUNT	1721956
+SHUFFLE	COPY_MAP_DATA	144053000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5560136
+SHUFFLE	COMPRESS_BYTE_COUNT	1727071
+SHUFFLE	COPY_MAP_DATA	330393000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5585430
+SHUFFLE	COMPRESS_BYTE_COUNT	1714293
+SHUFFLE	COPY_MAP_DATA	99066000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5542968
+SHUFFLE	COMPRESS_BYTE_COUNT	1722364
+SHUFFLE	COPY_MAP_DATA	117498000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5479324
+SHUFFLE	COMPRESS_BYTE_COUNT	1702661
+SHUFFLE	COPY_MAP_DATA	2470045000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5471228
+SHUFFLE	COMPRESS_BYTE_COUNT	1700023
+SHUFFLE	COPY_MAP_DATA	105486000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5537750
+SHUFFLE	COMPRESS_BYTE_COUNT	1700341
+SHUFFLE	COPY_MAP_DATA	317199000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5531496
+SHUFFLE	COMPRESS_BYTE_COUNT	1719321
+SHUFFLE	COPY_MAP_DATA	280235000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5507074
+SHUFFLE	COMPRESS_BYTE_COUNT	1711260
+SHUFFLE	COPY_MAP_DATA	600686000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5570404
+SHUFFLE	COMPRESS_BYTE_COUNT	1730243
+SHUFFLE	COPY_MAP_DATA	1460619000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5512300
+SHUFFLE	COMPRESS_BYTE_COUNT	1734917
+SHUFFLE	COPY_MAP_DATA	123642000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5477367
+SHUFFLE	COMPRESS_BYTE_COUNT	1702286
+SHUFFLE	COPY_MAP_DATA	417029000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5516921
+SHUFFLE	COMPRESS_BYTE_COUNT	1694191
+SHUFFLE	COPY_MAP_DATA	144299000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5537525
+SHUFFLE	COMPRESS_BYTE_COUNT	1720537
+SHUFFLE	COPY_MAP_DATA	142420000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5493534
+SHUFFLE	COMPRESS_BYTE_COUNT	1707720
+SHUFFLE	COPY_MAP_DATA	951244000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5510969
+SHUFFLE	COMPRESS_BYTE_COUNT	1712938
+SHUFFLE	COPY_MAP_DATA	395901000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5561444
+SHUFFLE	COMPRESS_BYTE_COUNT	1706822
+SHUFFLE	COPY_MAP_DATA	242743000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5571171
+SHUFFLE	COMPRESS_BYTE_COUNT	1710934
+SHUFFLE	COPY_MAP_DATA	279475000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5505154
+SHUFFLE	COMPRESS_BYTE_COUNT	1708170
+SHUFFLE	COPY_MAP_DATA	6342880000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5492648
+SHUFFLE	COMPRESS_BYTE_COUNT	1686448
+SHUFFLE	COPY_MAP_DATA	1492097000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5551637
+SHUFFLE	COMPRESS_BYTE_COUNT	1703546
+SHUFFLE	COPY_MAP_DATA	145437000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5534299
+SHUFFLE	COMPRESS_BYTE_COUNT	1720653
+SHUFFLE	COPY_MAP_DATA	128614000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5536241
+SHUFFLE	COMPRESS_BYTE_COUNT	1700102
+SHUFFLE	COPY_MAP_DATA	82377000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5554561
+SHUFFLE	COMPRESS_BYTE_COUNT	1704895
+SHUFFLE	COPY_MAP_DATA	84442000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5571980
+SHUFFLE	COMPRESS_BYTE_COUNT	1709979
+SHUFFLE	COPY_MAP_DATA	83537000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5537963
+SHUFFLE	COMPRESS_BYTE_COUNT	1700225
+SHUFFLE	COPY_MAP_DATA	1604024000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5429136
+SHUFFLE	COMPRESS_BYTE_COUNT	1709932
+SHUFFLE	COPY_MAP_DATA	83615000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5572567
+SHUFFLE	COMPRESS_BYTE_COUNT	1711179
+SHUFFLE	COPY_MAP_DATA	85831000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5545634
+SHUFFLE	COMPRESS_BYTE_COUNT	1702217
+SHUFFLE	COPY_MAP_DATA	697173000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5473387
+SHUFFLE	COMPRESS_BYTE_COUNT	1722763
+SHUFFLE	COPY_MAP_DATA	121100000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5474226
+SHUFFLE	COMPRESS_BYTE_COUNT	1680150
+SHUFFLE	COPY_MAP_DATA	85255000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5565366
+SHUFFLE	COMPRESS_BYTE_COUNT	1708420
+SHUFFLE	COPY_MAP_DATA	208274000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5572392
+SHUFFLE	COMPRESS_BYTE_COUNT	1709973
+SHUFFLE	COPY_MAP_DATA	90337000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5536701
+SHUFFLE	COMPRESS_BYTE_COUNT	1698753
+SHUFFLE	COPY_MAP_DATA	107420000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5552439
+SHUFFLE	COMPRESS_BYTE_COUNT	1703913
+SHUFFLE	COPY_MAP_DATA	208285000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5580030
+SHUFFLE	COMPRESS_BYTE_COUNT	1714527
+SHUFFLE	COPY_MAP_DATA	2215742000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5619019
+SHUFFLE	COMPRESS_BYTE_COUNT	1724660
+SHUFFLE	COPY_MAP_DATA	92371000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5543711
+SHUFFLE	COMPRESS_BYTE_COUNT	1702613
+SHUFFLE	COPY_MAP_DATA	199096000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5586397
+SHUFFLE	COMPRESS_BYTE_COUNT	1714031
+SHUFFLE	COPY_MAP_DATA	259907000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5555344
+SHUFFLE	COMPRESS_BYTE_COUNT	1705746
+SHUFFLE	COPY_MAP_DATA	930091000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5512127
+SHUFFLE	COMPRESS_BYTE_COUNT	1691931
+SHUFFLE	COPY_MAP_DATA	230971000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5478594
+SHUFFLE	COMPRESS_BYTE_COUNT	1720933
+SHUFFLE	COPY_MAP_DATA	201575000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5560481
+SHUFFLE	COMPRESS_BYTE_COUNT	1707366
+SHUFFLE	COPY_MAP_DATA	179089000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5556580
+SHUFFLE	COMPRESS_BYTE_COUNT	1705293
+SHUFFLE	COPY_MAP_DATA	304194000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5569888
+SHUFFLE	COMPRESS_BYTE_COUNT	1708890
+SHUFFLE	COPY_MAP_DATA	92230000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5579638
+SHUFFLE	COMPRESS_BYTE_COUNT	1711708
+SHUFFLE	COPY_MAP_DATA	90514000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5508031
+SHUFFLE	COMPRESS_BYTE_COUNT	1690721
+SHUFFLE	COPY_MAP_DATA	274433000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5528786
+SHUFFLE	COMPRESS_BYTE_COUNT	1697011
+SHUFFLE	COPY_MAP_DATA	9311937000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5543458
+SHUFFLE	COMPRESS_BYTE_COUNT	1702322
+SHUFFLE	COPY_MAP_DATA	97374000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5610403
+SHUFFLE	COMPRESS_BYTE_COUNT	1721432
+SHUFFLE	COPY_MAP_DATA	461790000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5608275
+SHUFFLE	COMPRESS_BYTE_COUNT	1721434
+SHUFFLE	COPY_MAP_DATA	349377000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5567965
+SHUFFLE	COMPRESS_BYTE_COUNT	1709603
+SHUFFLE	COPY_MAP_DATA	116030000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5513997
+SHUFFLE	COMPRESS_BYTE_COUNT	1691953
+SHUFFLE	COPY_MAP_DATA	2017963000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5565256
+SHUFFLE	COMPRESS_BYTE_COUNT	1708114
+SHUFFLE	COPY_MAP_DATA	165620000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5567144
+SHUFFLE	COMPRESS_BYTE_COUNT	1709245
+SHUFFLE	COPY_MAP_DATA	104708000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5565668
+SHUFFLE	COMPRESS_BYTE_COUNT	1708901
+SHUFFLE	COPY_MAP_DATA	111874000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5548724
+SHUFFLE	COMPRESS_BYTE_COUNT	1703666
+SHUFFLE	COPY_MAP_DATA	84471000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5514609
+SHUFFLE	COMPRESS_BYTE_COUNT	1692745
+SHUFFLE	COPY_MAP_DATA	550157000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5534868
+SHUFFLE	COMPRESS_BYTE_COUNT	1699829
+SHUFFLE	COPY_MAP_DATA	314643000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5474984
+SHUFFLE	COMPRESS_BYTE_COUNT	1681596
+SHUFFLE	COPY_MAP_DATA	84258000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5507409
+SHUFFLE	COMPRESS_BYTE_COUNT	1710690
+SHUFFLE	COPY_MAP_DATA	425815000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5577899
+SHUFFLE	COMPRESS_BYTE_COUNT	1711992
+SHUFFLE	COPY_MAP_DATA	616237000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5591178
+SHUFFLE	COMPRESS_BYTE_COUNT	1715754
+SHUFFLE	COPY_MAP_DATA	480430000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5554702
+SHUFFLE	COMPRESS_BYTE_COUNT	1704649
+SHUFFLE	COPY_MAP_DATA	205557000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5502298
+SHUFFLE	COMPRESS_BYTE_COUNT	1709538
+SHUFFLE	COPY_MAP_DATA	209155000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5490390
+SHUFFLE	COMPRESS_BYTE_COUNT	1707016
+SHUFFLE	COPY_MAP_DATA	260751000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5572610
+SHUFFLE	COMPRESS_BYTE_COUNT	1710443
+SHUFFLE	COPY_MAP_DATA	501361000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5525289
+SHUFFLE	COMPRESS_BYTE_COUNT	1695966
+SHUFFLE	COPY_MAP_DATA	1906322000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5581020
+SHUFFLE	COMPRESS_BYTE_COUNT	1711895
+SHUFFLE	COPY_MAP_DATA	12611828000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5529468
+SHUFFLE	COMPRESS_BYTE_COUNT	1697319
+SHUFFLE	COPY_MAP_DATA	119320000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5564453
+SHUFFLE	COMPRESS_BYTE_COUNT	1728437
+SHUFFLE	COPY_MAP_DATA	345064000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5608461
+SHUFFLE	COMPRESS_BYTE_COUNT	1720377
+SHUFFLE	COPY_MAP_DATA	559535000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5524445
+SHUFFLE	COMPRESS_BYTE_COUNT	1695041
+SHUFFLE	COPY_MAP_DATA	1783868000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5573622
+SHUFFLE	COMPRESS_BYTE_COUNT	1710400
+SHUFFLE	COPY_MAP_DATA	595375000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5536151
+SHUFFLE	COMPRESS_BYTE_COUNT	1698495
+SHUFFLE	COPY_MAP_DATA	323690000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5529055
+SHUFFLE	COMPRESS_BYTE_COUNT	1697609
+SHUFFLE	COPY_MAP_DATA	412460000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5555255
+SHUFFLE	COMPRESS_BYTE_COUNT	1705700
+SHUFFLE	COPY_MAP_DATA	1108346000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5552470
+SHUFFLE	COMPRESS_BYTE_COUNT	1705134
+SHUFFLE	COPY_MAP_DATA	98640000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5590023
+SHUFFLE	COMPRESS_BYTE_COUNT	1716180
+SHUFFLE	COPY_MAP_DATA	591957000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5587413
+SHUFFLE	COMPRESS_BYTE_COUNT	1714404
+SHUFFLE	COPY_MAP_DATA	15269379000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5521547
+SHUFFLE	COMPRESS_BYTE_COUNT	1715797
+SHUFFLE	COPY_MAP_DATA	1642604000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5588209
+SHUFFLE	COMPRESS_BYTE_COUNT	1736438
+SHUFFLE	COPY_MAP_DATA	92998000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5571684
+SHUFFLE	COMPRESS_BYTE_COUNT	1730921
+SHUFFLE	COPY_MAP_DATA	101580000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5527650
+SHUFFLE	COMPRESS_BYTE_COUNT	1718281
+SHUFFLE	COPY_MAP_DATA	235657000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5478950
+SHUFFLE	COMPRESS_BYTE_COUNT	1704011
+SHUFFLE	COPY_MAP_DATA	89524000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5500548
+SHUFFLE	COMPRESS_BYTE_COUNT	1710433
+SHUFFLE	COPY_MAP_DATA	235009000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5517591
+SHUFFLE	COMPRESS_BYTE_COUNT	1694330
+SHUFFLE	COPY_MAP_DATA	92385000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5499250
+SHUFFLE	COMPRESS_BYTE_COUNT	1709436
+SHUFFLE	COPY_MAP_DATA	1463031000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5516144
+SHUFFLE	COMPRESS_BYTE_COUNT	1715236
+SHUFFLE	COPY_MAP_DATA	92972000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5525101
+SHUFFLE	COMPRESS_BYTE_COUNT	1716914
+SHUFFLE	COPY_MAP_DATA	83584000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5505692
+SHUFFLE	COMPRESS_BYTE_COUNT	1711694
+SHUFFLE	COPY_MAP_DATA	331508000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5522191
+SHUFFLE	COMPRESS_BYTE_COUNT	1716644
+SHUFFLE	COPY_MAP_DATA	84061000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5468648
+SHUFFLE	COMPRESS_BYTE_COUNT	1699040
+SHUFFLE	COPY_MAP_DATA	83490000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5553164
+SHUFFLE	COMPRESS_BYTE_COUNT	1725931
+SHUFFLE	COPY_MAP_DATA	90130000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5563370
+SHUFFLE	COMPRESS_BYTE_COUNT	1708231
+SHUFFLE	COPY_MAP_DATA	359038000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5562630
+SHUFFLE	COMPRESS_BYTE_COUNT	1727467
+SHUFFLE	COPY_MAP_DATA	127042000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5507736
+SHUFFLE	COMPRESS_BYTE_COUNT	1711844
+SHUFFLE	COPY_MAP_DATA	92123000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5577305
+SHUFFLE	COMPRESS_BYTE_COUNT	1710411
+SHUFFLE	COPY_MAP_DATA	120088000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5540899
+SHUFFLE	COMPRESS_BYTE_COUNT	1722125
+SHUFFLE	COPY_MAP_DATA	117622000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5549098
+SHUFFLE	COMPRESS_BYTE_COUNT	1724136
+SHUFFLE	COPY_MAP_DATA	88286000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5565358
+SHUFFLE	COMPRESS_BYTE_COUNT	1728831
+SHUFFLE	COPY_MAP_DATA	102528000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5578043
+SHUFFLE	COMPRESS_BYTE_COUNT	1732369
+SHUFFLE	COPY_MAP_DATA	91463000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5464122
+SHUFFLE	COMPRESS_BYTE_COUNT	1699351
+SHUFFLE	COPY_MAP_DATA	250682000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5512107
+SHUFFLE	COMPRESS_BYTE_COUNT	1712212
+SHUFFLE	COPY_MAP_DATA	89799000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5508773
+SHUFFLE	COMPRESS_BYTE_COUNT	1712125
+SHUFFLE	COPY_MAP_DATA	2027008000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5570431
+SHUFFLE	COMPRESS_BYTE_COUNT	1730363
+SHUFFLE	COPY_MAP_DATA	398054000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5534440
+SHUFFLE	COMPRESS_BYTE_COUNT	1720366
+SHUFFLE	COPY_MAP_DATA	128655000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5515913
+SHUFFLE	COMPRESS_BYTE_COUNT	1714659
+SHUFFLE	COPY_MAP_DATA	1870058000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5462089
+SHUFFLE	COMPRESS_BYTE_COUNT	1697138
+SHUFFLE	COPY_MAP_DATA	344898000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5495923
+SHUFFLE	COMPRESS_BYTE_COUNT	1708179
+SHUFFLE	COPY_MAP_DATA	112880000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5534056
+SHUFFLE	COMPRESS_BYTE_COUNT	1719907
+SHUFFLE	COPY_MAP_DATA	224214000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5558101
+SHUFFLE	COMPRESS_BYTE_COUNT	1731380
+SHUFFLE	COPY_MAP_DATA	650264000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5558865
+SHUFFLE	COMPRESS_BYTE_COUNT	1732152
+SHUFFLE	COPY_MAP_DATA	133469000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5567619
+SHUFFLE	COMPRESS_BYTE_COUNT	1732736
+SHUFFLE	COPY_MAP_DATA	275338000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5560033
+SHUFFLE	COMPRESS_BYTE_COUNT	1732332
+SHUFFLE	COPY_MAP_DATA	113331000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5524671
+SHUFFLE	COMPRESS_BYTE_COUNT	1717199
+SHUFFLE	COPY_MAP_DATA	87936000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5601690
+SHUFFLE	COMPRESS_BYTE_COUNT	1728702
+SHUFFLE	COPY_MAP_DATA	100329000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5543852
+SHUFFLE	COMPRESS_BYTE_COUNT	1726003
+SHUFFLE	COPY_MAP_DATA	100809000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5589711
+SHUFFLE	COMPRESS_BYTE_COUNT	1725073
+SHUFFLE	COPY_MAP_DATA	289620000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5564207
+SHUFFLE	COMPRESS_BYTE_COUNT	1732904
+SHUFFLE	COPY_MAP_DATA	208620000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5602432
+SHUFFLE	COMPRESS_BYTE_COUNT	1729010
+SHUFFLE	COPY_MAP_DATA	126040000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5535629
+SHUFFLE	COMPRESS_BYTE_COUNT	1725308
+SHUFFLE	COPY_MAP_DATA	395102000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5575311
+SHUFFLE	COMPRESS_BYTE_COUNT	1720864
+SHUFFLE	COPY_MAP_DATA	592851000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5508087
+SHUFFLE	COMPRESS_BYTE_COUNT	1711538
+SHUFFLE	COPY_MAP_DATA	85256000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5600589
+SHUFFLE	COMPRESS_BYTE_COUNT	1740834
+SHUFFLE	COPY_MAP_DATA	205003000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4672511
+SHUFFLE	COMPRESS_BYTE_COUNT	1433801
+SHUFFLE	COPY_MAP_DATA	1112865000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5584758
+SHUFFLE	COMPRESS_BYTE_COUNT	1724157
+SHUFFLE	COPY_MAP_DATA	90432000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5563710
+SHUFFLE	COMPRESS_BYTE_COUNT	1733530
+SHUFFLE	COPY_MAP_DATA	1182422000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4457241
+SHUFFLE	COMPRESS_BYTE_COUNT	1385363
+SHUFFLE	COPY_MAP_DATA	76231000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4484250
+SHUFFLE	COMPRESS_BYTE_COUNT	1393862
+SHUFFLE	COPY_MAP_DATA	311714000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4716958
+SHUFFLE	COMPRESS_BYTE_COUNT	1447738
+SHUFFLE	COPY_MAP_DATA	274653000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4703594
+SHUFFLE	COMPRESS_BYTE_COUNT	1444232
+SHUFFLE	COPY_MAP_DATA	108836000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5587558
+SHUFFLE	COMPRESS_BYTE_COUNT	1725022
+SHUFFLE	COPY_MAP_DATA	144887000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5594199
+SHUFFLE	COMPRESS_BYTE_COUNT	1725505
+SHUFFLE	COPY_MAP_DATA	122387000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5552274
+SHUFFLE	COMPRESS_BYTE_COUNT	1729110
+SHUFFLE	COPY_MAP_DATA	438109000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5596217
+SHUFFLE	COMPRESS_BYTE_COUNT	1727775
+SHUFFLE	COPY_MAP_DATA	152126000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5518494
+SHUFFLE	COMPRESS_BYTE_COUNT	1735991
+SHUFFLE	COPY_MAP_DATA	91959000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5588914
+SHUFFLE	COMPRESS_BYTE_COUNT	1725057
+SHUFFLE	COPY_MAP_DATA	116386000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5549991
+SHUFFLE	COMPRESS_BYTE_COUNT	1728752
+SHUFFLE	COPY_MAP_DATA	248508000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5507446
+SHUFFLE	COMPRESS_BYTE_COUNT	1747132
+SHUFFLE	COPY_MAP_DATA	90435000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4500534
+SHUFFLE	COMPRESS_BYTE_COUNT	1398928
+SHUFFLE	COPY_MAP_DATA	76322000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4443919
+SHUFFLE	COMPRESS_BYTE_COUNT	1381571
+SHUFFLE	COPY_MAP_DATA	163716000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1738344
+SHUFFLE	COMPRESS_BYTE_COUNT	537775
+SHUFFLE	COPY_MAP_DATA	36849000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5579159
+SHUFFLE	COMPRESS_BYTE_COUNT	1721676
+SHUFFLE	COPY_MAP_DATA	148430000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5596932
+SHUFFLE	COMPRESS_BYTE_COUNT	1727039
+SHUFFLE	COPY_MAP_DATA	104007000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5607349
+SHUFFLE	COMPRESS_BYTE_COUNT	1730743
+SHUFFLE	COPY_MAP_DATA	94289000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5555963
+SHUFFLE	COMPRESS_BYTE_COUNT	1729634
+SHUFFLE	COPY_MAP_DATA	122410000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5598017
+SHUFFLE	COMPRESS_BYTE_COUNT	1727167
+SHUFFLE	COPY_MAP_DATA	961011000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1732750
+SHUFFLE	COMPRESS_BYTE_COUNT	535787
+SHUFFLE	COPY_MAP_DATA	29609000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4762488
+SHUFFLE	COMPRESS_BYTE_COUNT	1461601
+SHUFFLE	COPY_MAP_DATA	78845000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5550163
+SHUFFLE	COMPRESS_BYTE_COUNT	1729246
+SHUFFLE	COPY_MAP_DATA	139143000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4422556
+SHUFFLE	COMPRESS_BYTE_COUNT	1374165
+SHUFFLE	COPY_MAP_DATA	119970000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4623362
+SHUFFLE	COMPRESS_BYTE_COUNT	1419965
+SHUFFLE	COPY_MAP_DATA	77105000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4746901
+SHUFFLE	COMPRESS_BYTE_COUNT	1458334
+SHUFFLE	COPY_MAP_DATA	873305000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4510378
+SHUFFLE	COMPRESS_BYTE_COUNT	1402855
+SHUFFLE	COPY_MAP_DATA	77318000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4347692
+SHUFFLE	COMPRESS_BYTE_COUNT	1351673
+SHUFFLE	COPY_MAP_DATA	158664000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1743960
+SHUFFLE	COMPRESS_BYTE_COUNT	538434
+SHUFFLE	COPY_MAP_DATA	5354323000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1735946
+SHUFFLE	COMPRESS_BYTE_COUNT	536460
+SHUFFLE	COPY_MAP_DATA	263595000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4685146
+SHUFFLE	COMPRESS_BYTE_COUNT	1437995
+SHUFFLE	COPY_MAP_DATA	3241588000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5560746
+SHUFFLE	COMPRESS_BYTE_COUNT	1732540
+SHUFFLE	COPY_MAP_DATA	143229000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1658909
+SHUFFLE	COMPRESS_BYTE_COUNT	517444
+SHUFFLE	COPY_MAP_DATA	32955000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4471235
+SHUFFLE	COMPRESS_BYTE_COUNT	1389266
+SHUFFLE	COPY_MAP_DATA	73811000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5556778
+SHUFFLE	COMPRESS_BYTE_COUNT	1731341
+SHUFFLE	COPY_MAP_DATA	1741775000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4430074
+SHUFFLE	COMPRESS_BYTE_COUNT	1376131
+SHUFFLE	COPY_MAP_DATA	66841000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4743397
+SHUFFLE	COMPRESS_BYTE_COUNT	1455267
+SHUFFLE	COPY_MAP_DATA	169192000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1664036
+SHUFFLE	COMPRESS_BYTE_COUNT	519115
+SHUFFLE	COPY_MAP_DATA	2301977000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1740441
+SHUFFLE	COMPRESS_BYTE_COUNT	537993
+SHUFFLE	COPY_MAP_DATA	5671449000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1739237
+SHUFFLE	COMPRESS_BYTE_COUNT	537754
+SHUFFLE	COPY_MAP_DATA	27999000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4763863
+SHUFFLE	COMPRESS_BYTE_COUNT	1462841
+SHUFFLE	COPY_MAP_DATA	98685000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1746891
+SHUFFLE	COMPRESS_BYTE_COUNT	539494
+SHUFFLE	COPY_MAP_DATA	39877000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1744035
+SHUFFLE	COMPRESS_BYTE_COUNT	539060
+SHUFFLE	COPY_MAP_DATA	123681000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5554913
+SHUFFLE	COMPRESS_BYTE_COUNT	1729673
+SHUFFLE	COPY_MAP_DATA	88239000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4763828
+SHUFFLE	COMPRESS_BYTE_COUNT	1462727
+SHUFFLE	COPY_MAP_DATA	567427000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1746716
+SHUFFLE	COMPRESS_BYTE_COUNT	539426
+SHUFFLE	COPY_MAP_DATA	89118000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4740146
+SHUFFLE	COMPRESS_BYTE_COUNT	1456124
+SHUFFLE	COPY_MAP_DATA	160197000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4716382
+SHUFFLE	COMPRESS_BYTE_COUNT	1446748
+SHUFFLE	COPY_MAP_DATA	127508000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1664836
+SHUFFLE	COMPRESS_BYTE_COUNT	519233
+SHUFFLE	COPY_MAP_DATA	27331000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4166512
+SHUFFLE	COMPRESS_BYTE_COUNT	1312976
+SHUFFLE	COPY_MAP_DATA	82953000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1730150
+SHUFFLE	COMPRESS_BYTE_COUNT	535484
+SHUFFLE	COPY_MAP_DATA	300196000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4473179
+SHUFFLE	COMPRESS_BYTE_COUNT	1390157
+SHUFFLE	COPY_MAP_DATA	68338000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1663491
+SHUFFLE	COMPRESS_BYTE_COUNT	519419
+SHUFFLE	COPY_MAP_DATA	27109000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4419967
+SHUFFLE	COMPRESS_BYTE_COUNT	1373922
+SHUFFLE	COPY_MAP_DATA	119313000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1733067
+SHUFFLE	COMPRESS_BYTE_COUNT	536405
+SHUFFLE	COPY_MAP_DATA	47413000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1729842
+SHUFFLE	COMPRESS_BYTE_COUNT	534706
+SHUFFLE	COPY_MAP_DATA	192420000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1740521
+SHUFFLE	COMPRESS_BYTE_COUNT	538666
+SHUFFLE	COPY_MAP_DATA	157174000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1670974
+SHUFFLE	COMPRESS_BYTE_COUNT	521020
+SHUFFLE	COPY_MAP_DATA	28171000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1671197
+SHUFFLE	COMPRESS_BYTE_COUNT	521595
+SHUFFLE	COPY_MAP_DATA	70590000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1664242
+SHUFFLE	COMPRESS_BYTE_COUNT	518549
+SHUFFLE	COPY_MAP_DATA	27150000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4273579
+SHUFFLE	COMPRESS_BYTE_COUNT	1328873
+SHUFFLE	COPY_MAP_DATA	96600000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1674248
+SHUFFLE	COMPRESS_BYTE_COUNT	522572
+SHUFFLE	COPY_MAP_DATA	242444000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1662212
+SHUFFLE	COMPRESS_BYTE_COUNT	518058
+SHUFFLE	COPY_MAP_DATA	28653000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1673872
+SHUFFLE	COMPRESS_BYTE_COUNT	521886
+SHUFFLE	COPY_MAP_DATA	626715000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1699143
+SHUFFLE	COMPRESS_BYTE_COUNT	525773
+SHUFFLE	COPY_MAP_DATA	29761000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4438148
+SHUFFLE	COMPRESS_BYTE_COUNT	1380309
+SHUFFLE	COPY_MAP_DATA	1770150000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1631698
+SHUFFLE	COMPRESS_BYTE_COUNT	508801
+SHUFFLE	COPY_MAP_DATA	28402000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1668027
+SHUFFLE	COMPRESS_BYTE_COUNT	520348
+SHUFFLE	COPY_MAP_DATA	28316000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1660337
+SHUFFLE	COMPRESS_BYTE_COUNT	517486
+SHUFFLE	COPY_MAP_DATA	27757000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4653825
+SHUFFLE	COMPRESS_BYTE_COUNT	1427734
+SHUFFLE	COPY_MAP_DATA	448317000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1657161
+SHUFFLE	COMPRESS_BYTE_COUNT	516671
+SHUFFLE	COPY_MAP_DATA	27196000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1657635
+SHUFFLE	COMPRESS_BYTE_COUNT	517886
+SHUFFLE	COPY_MAP_DATA	27028000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4429461
+SHUFFLE	COMPRESS_BYTE_COUNT	1376858
+SHUFFLE	COPY_MAP_DATA	72013000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1590346
+SHUFFLE	COMPRESS_BYTE_COUNT	501927
+SHUFFLE	COPY_MAP_DATA	27610000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4581236
+SHUFFLE	COMPRESS_BYTE_COUNT	1406607
+SHUFFLE	COPY_MAP_DATA	74352000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4468121
+SHUFFLE	COMPRESS_BYTE_COUNT	1389092
+SHUFFLE	COPY_MAP_DATA	653208000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	496516606000
+MERGE	READ_WRITE	486434801000
+MERGE	READ_WRITE_COUNT	8
+MERGE	COMBINE	0
+MERGE	WRITE	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	7782958000
+SORT	READ_WRITE	7499584000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	192641496
+REDUCE	SETUP	353000
+REDUCE	SETUP_MEM	192641496
+REDUCE	CLEANUP	45000
+REDUCE	CLEANUP_MEM	187862424
+REDUCE	TOTAL_RUN	515406950058
+REDUCE	READ	19091437000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	486565522058
+REDUCE	WRITE	249736636058
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	55929145
+REDUCE	VALUE_BYTE_COUNT	1649304280
+REDUCE	REDUCE_MEM	187862424
+REDUCE	WRITE	3030121000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	1223612358058
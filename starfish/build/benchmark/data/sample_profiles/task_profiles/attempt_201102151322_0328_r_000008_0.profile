@@ -0,0 +1,989 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5510411
+SHUFFLE	COMPRESS_BYTE_COUNT	1712716
+SHUFFLE	COPY_MAP_DATA	588160000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5485271
+SHUFFLE	COMPRESS_BYTE_COUNT	1726772
+SHUFFLE	COPY_MAP_DATA	172435000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5535987
+SHUFFLE	COMPRESS_BYTE_COUNT	1721444
+SHUFFLE	COPY_MAP_DATA	117770000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5498708
+SHUFFLE	COMPRESS_BYTE_COUNT	1709129
+SHUFFLE	COPY_MAP_DATA	205078000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5492987
+SHUFFLE	COMPRESS_BYTE_COUNT	1707916
+SHUFFLE	COPY_MAP_DATA	657857000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5500603
+SHUFFLE	COMPRESS_BYTE_COUNT	1709944
+SHUFFLE	COPY_MAP_DATA	92359000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5593592
+SHUFFLE	COMPRESS_BYTE_COUNT	1739638
+SHUFFLE	COPY_MAP_DATA	122898000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5437034
+SHUFFLE	COMPRESS_BYTE_COUNT	1712174
+SHUFFLE	COPY_MAP_DATA	103069000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5559147
+SHUFFLE	COMPRESS_BYTE_COUNT	1727646
+SHUFFLE	COPY_MAP_DATA	222963000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5473765
+SHUFFLE	COMPRESS_BYTE_COUNT	1701203
+SHUFFLE	COPY_MAP_DATA	466932000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5502885
+SHUFFLE	COMPRESS_BYTE_COUNT	1710916
+SHUFFLE	COPY_MAP_DATA	88956000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5529148
+SHUFFLE	COMPRESS_BYTE_COUNT	1718762
+SHUFFLE	COPY_MAP_DATA	148912000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5553764
+SHUFFLE	COMPRESS_BYTE_COUNT	1727121
+SHUFFLE	COPY_MAP_DATA	198062000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5513968
+SHUFFLE	COMPRESS_BYTE_COUNT	1712883
+SHUFFLE	COPY_MAP_DATA	316624000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5538093
+SHUFFLE	COMPRESS_BYTE_COUNT	1721443
+SHUFFLE	COPY_MAP_DATA	220403000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5546406
+SHUFFLE	COMPRESS_BYTE_COUNT	1725027
+SHUFFLE	COPY_MAP_DATA	89272000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5554972
+SHUFFLE	COMPRESS_BYTE_COUNT	1727310
+SHUFFLE	COPY_MAP_DATA	444138000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5468126
+SHUFFLE	COMPRESS_BYTE_COUNT	1722619
+SHUFFLE	COPY_MAP_DATA	147632000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5504288
+SHUFFLE	COMPRESS_BYTE_COUNT	1733247
+SHUFFLE	COPY_MAP_DATA	401955000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5529633
+SHUFFLE	COMPRESS_BYTE_COUNT	1718987
+SHUFFLE	COPY_MAP_DATA	112455000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5479307
+SHUFFLE	COMPRESS_BYTE_COUNT	1705070
+SHUFFLE	COPY_MAP_DATA	292288000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5495775
+SHUFFLE	COMPRESS_BYTE_COUNT	1707734
+SHUFFLE	COPY_MAP_DATA	242941000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5456710
+SHUFFLE	COMPRESS_BYTE_COUNT	1696828
+SHUFFLE	COPY_MAP_DATA	158418000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5506419
+SHUFFLE	COMPRESS_BYTE_COUNT	1690243
+SHUFFLE	COPY_MAP_DATA	137285000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5483487
+SHUFFLE	COMPRESS_BYTE_COUNT	1704535
+SHUFFLE	COPY_MAP_DATA	380722000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5551627
+SHUFFLE	COMPRESS_BYTE_COUNT	1725449
+SHUFFLE	COPY_MAP_DATA	535282000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5564612
+SHUFFLE	COMPRESS_BYTE_COUNT	1728772
+SHUFFLE	COPY_MAP_DATA	1111263000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5522254
+SHUFFLE	COMPRESS_BYTE_COUNT	1716304
+SHUFFLE	COPY_MAP_DATA	4429743000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5523501
+SHUFFLE	COMPRESS_BYTE_COUNT	1717213
+SHUFFLE	COPY_MAP_DATA	1902508000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5402516
+SHUFFLE	COMPRESS_BYTE_COUNT	1729013
+SHUFFLE	COPY_MAP_DATA	340582000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5529990
+SHUFFLE	COMPRESS_BYTE_COUNT	1696609
+SHUFFLE	COPY_MAP_DATA	224913000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5505601
+SHUFFLE	COMPRESS_BYTE_COUNT	1710786
+SHUFFLE	COPY_MAP_DATA	404748000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5510643
+SHUFFLE	COMPRESS_BYTE_COUNT	1712638
+SHUFFLE	COPY_MAP_DATA	124787000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5587408
+SHUFFLE	COMPRESS_BYTE_COUNT	1715069
+SHUFFLE	COPY_MAP_DATA	661849000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5521725
+SHUFFLE	COMPRESS_BYTE_COUNT	1696485
+SHUFFLE	COPY_MAP_DATA	98816000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5573950
+SHUFFLE	COMPRESS_BYTE_COUNT	1710041
+SHUFFLE	COPY_MAP_DATA	125905000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5513725
+SHUFFLE	COMPRESS_BYTE_COUNT	1713191
+SHUFFLE	COPY_MAP_DATA	6117625000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5534837
+SHUFFLE	COMPRESS_BYTE_COUNT	1719422
+SHUFFLE	COPY_MAP_DATA	560033000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5559474
+SHUFFLE	COMPRESS_BYTE_COUNT	1727696
+SHUFFLE	COPY_MAP_DATA	554537000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5589755
+SHUFFLE	COMPRESS_BYTE_COUNT	1715791
+SHUFFLE	COPY_MAP_DATA	261604000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5496482
+SHUFFLE	COMPRESS_BYTE_COUNT	1709797
+SHUFFLE	COPY_MAP_DATA	119280000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5435137
+SHUFFLE	COMPRESS_BYTE_COUNT	1712195
+SHUFFLE	COPY_MAP_DATA	153158000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5498369
+SHUFFLE	COMPRESS_BYTE_COUNT	1708720
+SHUFFLE	COPY_MAP_DATA	255553000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5547956
+SHUFFLE	COMPRESS_BYTE_COUNT	1723905
+SHUFFLE	COPY_MAP_DATA	967086000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5535080
+SHUFFLE	COMPRESS_BYTE_COUNT	1719119
+SHUFFLE	COPY_MAP_DATA	620483000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5484785
+SHUFFLE	COMPRESS_BYTE_COUNT	1706331
+SHUFFLE	COPY_MAP_DATA	117646000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5524514
+SHUFFLE	COMPRESS_BYTE_COUNT	1697169
+SHUFFLE	COPY_MAP_DATA	408671000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5479867
+SHUFFLE	COMPRESS_BYTE_COUNT	1702683
+SHUFFLE	COPY_MAP_DATA	134493000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5553385
+SHUFFLE	COMPRESS_BYTE_COUNT	1703465
+SHUFFLE	COPY_MAP_DATA	714771000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5535239
+SHUFFLE	COMPRESS_BYTE_COUNT	1720673
+SHUFFLE	COPY_MAP_DATA	869427000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5512068
+SHUFFLE	COMPRESS_BYTE_COUNT	1712908
+SHUFFLE	COPY_MAP_DATA	7098703000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5508086
+SHUFFLE	COMPRESS_BYTE_COUNT	1712703
+SHUFFLE	COPY_MAP_DATA	876177000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5555737
+SHUFFLE	COMPRESS_BYTE_COUNT	1705997
+SHUFFLE	COPY_MAP_DATA	101830000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5496833
+SHUFFLE	COMPRESS_BYTE_COUNT	1704884
+SHUFFLE	COPY_MAP_DATA	497437000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5595335
+SHUFFLE	COMPRESS_BYTE_COUNT	1717206
+SHUFFLE	COPY_MAP_DATA	109842000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5517690
+SHUFFLE	COMPRESS_BYTE_COUNT	1693409
+SHUFFLE	COPY_MAP_DATA	89207000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5545503
+SHUFFLE	COMPRESS_BYTE_COUNT	1721424
+SHUFFLE	COPY_MAP_DATA	333145000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5505676
+SHUFFLE	COMPRESS_BYTE_COUNT	1689960
+SHUFFLE	COPY_MAP_DATA	553947000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5489086
+SHUFFLE	COMPRESS_BYTE_COUNT	1685377
+SHUFFLE	COPY_MAP_DATA	86734000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5587158
+SHUFFLE	COMPRESS_BYTE_COUNT	1714969
+SHUFFLE	COPY_MAP_DATA	200877000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5537650
+SHUFFLE	COMPRESS_BYTE_COUNT	1699282
+SHUFFLE	COPY_MAP_DATA	136755000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5569651
+SHUFFLE	COMPRESS_BYTE_COUNT	1709315
+SHUFFLE	COPY_MAP_DATA	83483000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5480252
+SHUFFLE	COMPRESS_BYTE_COUNT	1724880
+SHUFFLE	COPY_MAP_DATA	91778000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5532914
+SHUFFLE	COMPRESS_BYTE_COUNT	1698649
+SHUFFLE	COPY_MAP_DATA	83501000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5582253
+SHUFFLE	COMPRESS_BYTE_COUNT	1713479
+SHUFFLE	COPY_MAP_DATA	284832000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5451547
+SHUFFLE	COMPRESS_BYTE_COUNT	1716826
+SHUFFLE	COPY_MAP_DATA	102283000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5531213
+SHUFFLE	COMPRESS_BYTE_COUNT	1697984
+SHUFFLE	COPY_MAP_DATA	83770000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5543714
+SHUFFLE	COMPRESS_BYTE_COUNT	1700409
+SHUFFLE	COPY_MAP_DATA	100797000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5562065
+SHUFFLE	COMPRESS_BYTE_COUNT	1707814
+SHUFFLE	COPY_MAP_DATA	84546000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5555934
+SHUFFLE	COMPRESS_BYTE_COUNT	1705845
+SHUFFLE	COPY_MAP_DATA	108039000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5501148
+SHUFFLE	COMPRESS_BYTE_COUNT	1688677
+SHUFFLE	COPY_MAP_DATA	84035000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5528815
+SHUFFLE	COMPRESS_BYTE_COUNT	1696922
+SHUFFLE	COPY_MAP_DATA	83440000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5576695
+SHUFFLE	COMPRESS_BYTE_COUNT	1710899
+SHUFFLE	COPY_MAP_DATA	343184000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5547115
+SHUFFLE	COMPRESS_BYTE_COUNT	1701720
+SHUFFLE	COPY_MAP_DATA	182413000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5524290
+SHUFFLE	COMPRESS_BYTE_COUNT	1696217
+SHUFFLE	COPY_MAP_DATA	604081000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5573797
+SHUFFLE	COMPRESS_BYTE_COUNT	1710041
+SHUFFLE	COPY_MAP_DATA	87986000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5504418
+SHUFFLE	COMPRESS_BYTE_COUNT	1689370
+SHUFFLE	COPY_MAP_DATA	121791000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5457985
+SHUFFLE	COMPRESS_BYTE_COUNT	1714820
+SHUFFLE	COPY_MAP_DATA	110226000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5543272
+SHUFFLE	COMPRESS_BYTE_COUNT	1701880
+SHUFFLE	COPY_MAP_DATA	770062000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5543997
+SHUFFLE	COMPRESS_BYTE_COUNT	1702624
+SHUFFLE	COPY_MAP_DATA	116795000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5541122
+SHUFFLE	COMPRESS_BYTE_COUNT	1701242
+SHUFFLE	COPY_MAP_DATA	89072000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5506530
+SHUFFLE	COMPRESS_BYTE_COUNT	1689680
+SHUFFLE	COPY_MAP_DATA	104388000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5547629
+SHUFFLE	COMPRESS_BYTE_COUNT	1703435
+SHUFFLE	COPY_MAP_DATA	2746187432
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5558880
+SHUFFLE	COMPRESS_BYTE_COUNT	1705432
+SHUFFLE	COPY_MAP_DATA	87072000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5539524
+SHUFFLE	COMPRESS_BYTE_COUNT	1699682
+SHUFFLE	COPY_MAP_DATA	7918829000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5485266
+SHUFFLE	COMPRESS_BYTE_COUNT	1684125
+SHUFFLE	COPY_MAP_DATA	105456000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5587081
+SHUFFLE	COMPRESS_BYTE_COUNT	1714322
+SHUFFLE	COPY_MAP_DATA	98084000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5548672
+SHUFFLE	COMPRESS_BYTE_COUNT	1702846
+SHUFFLE	COPY_MAP_DATA	313066000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5491848
+SHUFFLE	COMPRESS_BYTE_COUNT	1686153
+SHUFFLE	COPY_MAP_DATA	439199000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5529403
+SHUFFLE	COMPRESS_BYTE_COUNT	1698931
+SHUFFLE	COPY_MAP_DATA	568559000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5518925
+SHUFFLE	COMPRESS_BYTE_COUNT	1693405
+SHUFFLE	COPY_MAP_DATA	899585000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5572875
+SHUFFLE	COMPRESS_BYTE_COUNT	1711178
+SHUFFLE	COPY_MAP_DATA	941977000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5576497
+SHUFFLE	COMPRESS_BYTE_COUNT	1711037
+SHUFFLE	COPY_MAP_DATA	886009000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5560650
+SHUFFLE	COMPRESS_BYTE_COUNT	1706296
+SHUFFLE	COPY_MAP_DATA	284468000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5478717
+SHUFFLE	COMPRESS_BYTE_COUNT	1682178
+SHUFFLE	COPY_MAP_DATA	205164000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5568547
+SHUFFLE	COMPRESS_BYTE_COUNT	1709513
+SHUFFLE	COPY_MAP_DATA	89765000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5513984
+SHUFFLE	COMPRESS_BYTE_COUNT	1693426
+SHUFFLE	COPY_MAP_DATA	96722000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5587967
+SHUFFLE	COMPRESS_BYTE_COUNT	1715234
+SHUFFLE	COPY_MAP_DATA	106401000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5523793
+SHUFFLE	COMPRESS_BYTE_COUNT	1717226
+SHUFFLE	COPY_MAP_DATA	455183000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5577705
+SHUFFLE	COMPRESS_BYTE_COUNT	1711598
+SHUFFLE	COPY_MAP_DATA	90092000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5554734
+SHUFFLE	COMPRESS_BYTE_COUNT	1726614
+SHUFFLE	COPY_MAP_DATA	98141000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5570943
+SHUFFLE	COMPRESS_BYTE_COUNT	1730323
+SHUFFLE	COPY_MAP_DATA	203146000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5569234
+SHUFFLE	COMPRESS_BYTE_COUNT	1709702
+SHUFFLE	COPY_MAP_DATA	95272000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5590932
+SHUFFLE	COMPRESS_BYTE_COUNT	1716484
+SHUFFLE	COPY_MAP_DATA	1176875000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5545303
+SHUFFLE	COMPRESS_BYTE_COUNT	1702429
+SHUFFLE	COPY_MAP_DATA	168267000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5510117
+SHUFFLE	COMPRESS_BYTE_COUNT	1712008
+SHUFFLE	COPY_MAP_DATA	88862000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5580185
+SHUFFLE	COMPRESS_BYTE_COUNT	1713110
+SHUFFLE	COPY_MAP_DATA	9216300000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5541332
+SHUFFLE	COMPRESS_BYTE_COUNT	1701280
+SHUFFLE	COPY_MAP_DATA	95792000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5592253
+SHUFFLE	COMPRESS_BYTE_COUNT	1717825
+SHUFFLE	COPY_MAP_DATA	143887000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5593242
+SHUFFLE	COMPRESS_BYTE_COUNT	1715937
+SHUFFLE	COPY_MAP_DATA	880588000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5590143
+SHUFFLE	COMPRESS_BYTE_COUNT	1715193
+SHUFFLE	COPY_MAP_DATA	88671000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5455341
+SHUFFLE	COMPRESS_BYTE_COUNT	1675371
+SHUFFLE	COPY_MAP_DATA	91415000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5578814
+SHUFFLE	COMPRESS_BYTE_COUNT	1711648
+SHUFFLE	COPY_MAP_DATA	139492000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5579655
+SHUFFLE	COMPRESS_BYTE_COUNT	1711649
+SHUFFLE	COPY_MAP_DATA	858406000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5492493
+SHUFFLE	COMPRESS_BYTE_COUNT	1686436
+SHUFFLE	COPY_MAP_DATA	169556000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5560177
+SHUFFLE	COMPRESS_BYTE_COUNT	1706082
+SHUFFLE	COPY_MAP_DATA	364860000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5545914
+SHUFFLE	COMPRESS_BYTE_COUNT	1724077
+SHUFFLE	COPY_MAP_DATA	1059109000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5513194
+SHUFFLE	COMPRESS_BYTE_COUNT	1714637
+SHUFFLE	COPY_MAP_DATA	177027000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5533034
+SHUFFLE	COMPRESS_BYTE_COUNT	1720178
+SHUFFLE	COPY_MAP_DATA	93492000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5496840
+SHUFFLE	COMPRESS_BYTE_COUNT	1708657
+SHUFFLE	COPY_MAP_DATA	112205000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5541897
+SHUFFLE	COMPRESS_BYTE_COUNT	1721211
+SHUFFLE	COPY_MAP_DATA	83661000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5515357
+SHUFFLE	COMPRESS_BYTE_COUNT	1714413
+SHUFFLE	COPY_MAP_DATA	160430000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5505433
+SHUFFLE	COMPRESS_BYTE_COUNT	1689544
+SHUFFLE	COPY_MAP_DATA	111453000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5476424
+SHUFFLE	COMPRESS_BYTE_COUNT	1702789
+SHUFFLE	COPY_MAP_DATA	84724000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5543197
+SHUFFLE	COMPRESS_BYTE_COUNT	1722959
+SHUFFLE	COPY_MAP_DATA	84831000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5442542
+SHUFFLE	COMPRESS_BYTE_COUNT	1692434
+SHUFFLE	COPY_MAP_DATA	229696000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5508524
+SHUFFLE	COMPRESS_BYTE_COUNT	1712150
+SHUFFLE	COPY_MAP_DATA	108992000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5497904
+SHUFFLE	COMPRESS_BYTE_COUNT	1708978
+SHUFFLE	COPY_MAP_DATA	276808000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5464108
+SHUFFLE	COMPRESS_BYTE_COUNT	1698394
+SHUFFLE	COPY_MAP_DATA	91636000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5574679
+SHUFFLE	COMPRESS_BYTE_COUNT	1732414
+SHUFFLE	COPY_MAP_DATA	384841000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5564822
+SHUFFLE	COMPRESS_BYTE_COUNT	1707605
+SHUFFLE	COPY_MAP_DATA	83924000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5563654
+SHUFFLE	COMPRESS_BYTE_COUNT	1707860
+SHUFFLE	COPY_MAP_DATA	1298200000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5528260
+SHUFFLE	COMPRESS_BYTE_COUNT	1718346
+SHUFFLE	COPY_MAP_DATA	110223000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5521484
+SHUFFLE	COMPRESS_BYTE_COUNT	1715700
+SHUFFLE	COPY_MAP_DATA	129239000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5502218
+SHUFFLE	COMPRESS_BYTE_COUNT	1710031
+SHUFFLE	COPY_MAP_DATA	83994000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5470455
+SHUFFLE	COMPRESS_BYTE_COUNT	1701916
+SHUFFLE	COPY_MAP_DATA	89025000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5545139
+SHUFFLE	COMPRESS_BYTE_COUNT	1723804
+SHUFFLE	COPY_MAP_DATA	112744000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5503718
+SHUFFLE	COMPRESS_BYTE_COUNT	1710997
+SHUFFLE	COPY_MAP_DATA	141326000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5554036
+SHUFFLE	COMPRESS_BYTE_COUNT	1726551
+SHUFFLE	COPY_MAP_DATA	163104000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5491909
+SHUFFLE	COMPRESS_BYTE_COUNT	1706420
+SHUFFLE	COPY_MAP_DATA	85596000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5576853
+SHUFFLE	COMPRESS_BYTE_COUNT	1732889
+SHUFFLE	COPY_MAP_DATA	183705000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5530855
+SHUFFLE	COMPRESS_BYTE_COUNT	1719900
+SHUFFLE	COPY_MAP_DATA	83696000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5531075
+SHUFFLE	COMPRESS_BYTE_COUNT	1718684
+SHUFFLE	COPY_MAP_DATA	478613000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5486174
+SHUFFLE	COMPRESS_BYTE_COUNT	1705734
+SHUFFLE	COPY_MAP_DATA	107563000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5533197
+SHUFFLE	COMPRESS_BYTE_COUNT	1719732
+SHUFFLE	COPY_MAP_DATA	246417000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5521039
+SHUFFLE	COMPRESS_BYTE_COUNT	1715950
+SHUFFLE	COPY_MAP_DATA	349754000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5567954
+SHUFFLE	COMPRESS_BYTE_COUNT	1733678
+SHUFFLE	COPY_MAP_DATA	106570000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5513944
+SHUFFLE	COMPRESS_BYTE_COUNT	1713565
+SHUFFLE	COPY_MAP_DATA	96401000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5559285
+SHUFFLE	COMPRESS_BYTE_COUNT	1731418
+SHUFFLE	COPY_MAP_DATA	162252000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5558823
+SHUFFLE	COMPRESS_BYTE_COUNT	1732436
+SHUFFLE	COPY_MAP_DATA	241107000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5572765
+SHUFFLE	COMPRESS_BYTE_COUNT	1733732
+SHUFFLE	COPY_MAP_DATA	89195000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5589782
+SHUFFLE	COMPRESS_BYTE_COUNT	1725371
+SHUFFLE	COPY_MAP_DATA	317478000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5603810
+SHUFFLE	COMPRESS_BYTE_COUNT	1729273
+SHUFFLE	COPY_MAP_DATA	817613000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5515493
+SHUFFLE	COMPRESS_BYTE_COUNT	1714842
+SHUFFLE	COPY_MAP_DATA	617978000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5544885
+SHUFFLE	COMPRESS_BYTE_COUNT	1727621
+SHUFFLE	COPY_MAP_DATA	156064000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5562387
+SHUFFLE	COMPRESS_BYTE_COUNT	1732558
+SHUFFLE	COPY_MAP_DATA	298587000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5599751
+SHUFFLE	COMPRESS_BYTE_COUNT	1728451
+SHUFFLE	COPY_MAP_DATA	334037000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5543079
+SHUFFLE	COMPRESS_BYTE_COUNT	1727443
+SHUFFLE	COPY_MAP_DATA	168281000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5575745
+SHUFFLE	COMPRESS_BYTE_COUNT	1720614
+SHUFFLE	COPY_MAP_DATA	88556000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5452078
+SHUFFLE	COMPRESS_BYTE_COUNT	1694859
+SHUFFLE	COPY_MAP_DATA	120005000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5595179
+SHUFFLE	COMPRESS_BYTE_COUNT	1737705
+SHUFFLE	COPY_MAP_DATA	95960000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4715471
+SHUFFLE	COMPRESS_BYTE_COUNT	1448293
+SHUFFLE	COPY_MAP_DATA	825575000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5582378
+SHUFFLE	COMPRESS_BYTE_COUNT	1724043
+SHUFFLE	COPY_MAP_DATA	99564000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4767551
+SHUFFLE	COMPRESS_BYTE_COUNT	1464028
+SHUFFLE	COPY_MAP_DATA	75478000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5561820
+SHUFFLE	COMPRESS_BYTE_COUNT	1732097
+SHUFFLE	COPY_MAP_DATA	90994000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4497483
+SHUFFLE	COMPRESS_BYTE_COUNT	1398172
+SHUFFLE	COPY_MAP_DATA	99719000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5591035
+SHUFFLE	COMPRESS_BYTE_COUNT	1725956
+SHUFFLE	COPY_MAP_DATA	117177000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4721740
+SHUFFLE	COMPRESS_BYTE_COUNT	1449988
+SHUFFLE	COPY_MAP_DATA	75194000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4477974
+SHUFFLE	COMPRESS_BYTE_COUNT	1392042
+SHUFFLE	COPY_MAP_DATA	96516000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5590995
+SHUFFLE	COMPRESS_BYTE_COUNT	1727135
+SHUFFLE	COPY_MAP_DATA	96484000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5544414
+SHUFFLE	COMPRESS_BYTE_COUNT	1727410
+SHUFFLE	COPY_MAP_DATA	177064000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5599242
+SHUFFLE	COMPRESS_BYTE_COUNT	1727990
+SHUFFLE	COPY_MAP_DATA	177900000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5507935
+SHUFFLE	COMPRESS_BYTE_COUNT	1734559
+SHUFFLE	COPY_MAP_DATA	88688000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5584686
+SHUFFLE	COMPRESS_BYTE_COUNT	1724227
+SHUFFLE	COPY_MAP_DATA	87858000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5553057
+SHUFFLE	COMPRESS_BYTE_COUNT	1730154
+SHUFFLE	COPY_MAP_DATA	517770000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4465976
+SHUFFLE	COMPRESS_BYTE_COUNT	1387897
+SHUFFLE	COPY_MAP_DATA	73897000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5509337
+SHUFFLE	COMPRESS_BYTE_COUNT	1747737
+SHUFFLE	COPY_MAP_DATA	2968103000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4461157
+SHUFFLE	COMPRESS_BYTE_COUNT	1387332
+SHUFFLE	COPY_MAP_DATA	100312000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1740276
+SHUFFLE	COMPRESS_BYTE_COUNT	538002
+SHUFFLE	COPY_MAP_DATA	30883000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5583083
+SHUFFLE	COMPRESS_BYTE_COUNT	1723115
+SHUFFLE	COPY_MAP_DATA	106877000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5600790
+SHUFFLE	COMPRESS_BYTE_COUNT	1729110
+SHUFFLE	COPY_MAP_DATA	459002000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5604171
+SHUFFLE	COMPRESS_BYTE_COUNT	1729883
+SHUFFLE	COPY_MAP_DATA	875683000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5554670
+SHUFFLE	COMPRESS_BYTE_COUNT	1731130
+SHUFFLE	COPY_MAP_DATA	97753000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5592730
+SHUFFLE	COMPRESS_BYTE_COUNT	1726401
+SHUFFLE	COPY_MAP_DATA	197795000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1733276
+SHUFFLE	COMPRESS_BYTE_COUNT	535978
+SHUFFLE	COPY_MAP_DATA	30230000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4780463
+SHUFFLE	COMPRESS_BYTE_COUNT	1467210
+SHUFFLE	COPY_MAP_DATA	77261000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4439867
+SHUFFLE	COMPRESS_BYTE_COUNT	1380658
+SHUFFLE	COPY_MAP_DATA	73605000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4486968
+SHUFFLE	COMPRESS_BYTE_COUNT	1395140
+SHUFFLE	COPY_MAP_DATA	301928000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4403872
+SHUFFLE	COMPRESS_BYTE_COUNT	1369483
+SHUFFLE	COPY_MAP_DATA	137190000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4789821
+SHUFFLE	COMPRESS_BYTE_COUNT	1470757
+SHUFFLE	COPY_MAP_DATA	138523000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5553768
+SHUFFLE	COMPRESS_BYTE_COUNT	1730073
+SHUFFLE	COPY_MAP_DATA	87771000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4717135
+SHUFFLE	COMPRESS_BYTE_COUNT	1448159
+SHUFFLE	COPY_MAP_DATA	93343000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5566728
+SHUFFLE	COMPRESS_BYTE_COUNT	1734457
+SHUFFLE	COPY_MAP_DATA	443184000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1663829
+SHUFFLE	COMPRESS_BYTE_COUNT	518982
+SHUFFLE	COPY_MAP_DATA	29423000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1733464
+SHUFFLE	COMPRESS_BYTE_COUNT	535755
+SHUFFLE	COPY_MAP_DATA	29592000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1735617
+SHUFFLE	COMPRESS_BYTE_COUNT	536568
+SHUFFLE	COPY_MAP_DATA	758955000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4685193
+SHUFFLE	COMPRESS_BYTE_COUNT	1438771
+SHUFFLE	COPY_MAP_DATA	75435000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4450115
+SHUFFLE	COMPRESS_BYTE_COUNT	1383500
+SHUFFLE	COPY_MAP_DATA	122863000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4420248
+SHUFFLE	COMPRESS_BYTE_COUNT	1373204
+SHUFFLE	COPY_MAP_DATA	1895501000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5564713
+SHUFFLE	COMPRESS_BYTE_COUNT	1732028
+SHUFFLE	COPY_MAP_DATA	91649000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4771693
+SHUFFLE	COMPRESS_BYTE_COUNT	1464358
+SHUFFLE	COPY_MAP_DATA	79442000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1740802
+SHUFFLE	COMPRESS_BYTE_COUNT	538188
+SHUFFLE	COPY_MAP_DATA	30634000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1665349
+SHUFFLE	COMPRESS_BYTE_COUNT	519957
+SHUFFLE	COPY_MAP_DATA	89235000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1739056
+SHUFFLE	COMPRESS_BYTE_COUNT	538161
+SHUFFLE	COPY_MAP_DATA	35823000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4761124
+SHUFFLE	COMPRESS_BYTE_COUNT	1461935
+SHUFFLE	COPY_MAP_DATA	91533000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5548565
+SHUFFLE	COMPRESS_BYTE_COUNT	1729587
+SHUFFLE	COPY_MAP_DATA	218953000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4743818
+SHUFFLE	COMPRESS_BYTE_COUNT	1456703
+SHUFFLE	COPY_MAP_DATA	76954000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1752682
+SHUFFLE	COMPRESS_BYTE_COUNT	541369
+SHUFFLE	COPY_MAP_DATA	32779000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1747455
+SHUFFLE	COMPRESS_BYTE_COUNT	539972
+SHUFFLE	COPY_MAP_DATA	32235000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1743990
+SHUFFLE	COMPRESS_BYTE_COUNT	538897
+SHUFFLE	COPY_MAP_DATA	30381000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4719446
+SHUFFLE	COMPRESS_BYTE_COUNT	1448662
+SHUFFLE	COPY_MAP_DATA	227440000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4726884
+SHUFFLE	COMPRESS_BYTE_COUNT	1451351
+SHUFFLE	COPY_MAP_DATA	76760000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4161674
+SHUFFLE	COMPRESS_BYTE_COUNT	1310436
+SHUFFLE	COPY_MAP_DATA	68432000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1732151
+SHUFFLE	COMPRESS_BYTE_COUNT	535636
+SHUFFLE	COPY_MAP_DATA	45827000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4447844
+SHUFFLE	COMPRESS_BYTE_COUNT	1382955
+SHUFFLE	COPY_MAP_DATA	293022000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1664358
+SHUFFLE	COMPRESS_BYTE_COUNT	519346
+SHUFFLE	COPY_MAP_DATA	29106000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1744065
+SHUFFLE	COMPRESS_BYTE_COUNT	539697
+SHUFFLE	COPY_MAP_DATA	29401000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1672367
+SHUFFLE	COMPRESS_BYTE_COUNT	521553
+SHUFFLE	COPY_MAP_DATA	319289000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1668994
+SHUFFLE	COMPRESS_BYTE_COUNT	520806
+SHUFFLE	COPY_MAP_DATA	56573000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4295918
+SHUFFLE	COMPRESS_BYTE_COUNT	1335392
+SHUFFLE	COPY_MAP_DATA	126101000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1667510
+SHUFFLE	COMPRESS_BYTE_COUNT	519748
+SHUFFLE	COPY_MAP_DATA	60077000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4428877
+SHUFFLE	COMPRESS_BYTE_COUNT	1377022
+SHUFFLE	COPY_MAP_DATA	460624000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1661855
+SHUFFLE	COMPRESS_BYTE_COUNT	518631
+SHUFFLE	COPY_MAP_DATA	28186000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1732620
+SHUFFLE	COMPRESS_BYTE_COUNT	535442
+SHUFFLE	COPY_MAP_DATA	28534000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1624060
+SHUFFLE	COMPRESS_BYTE_COUNT	507617
+SHUFFLE	COPY_MAP_DATA	30621000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1674839
+SHUFFLE	COMPRESS_BYTE_COUNT	522523
+SHUFFLE	COPY_MAP_DATA	79394000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1672570
+SHUFFLE	COMPRESS_BYTE_COUNT	521904
+SHUFFLE	COPY_MAP_DATA	26629000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1702309
+SHUFFLE	COMPRESS_BYTE_COUNT	526242
+SHUFFLE	COPY_MAP_DATA	637886000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1735524
+SHUFFLE	COMPRESS_BYTE_COUNT	536626
+SHUFFLE	COPY_MAP_DATA	28366000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1659000
+SHUFFLE	COMPRESS_BYTE_COUNT	517752
+SHUFFLE	COPY_MAP_DATA	26240000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4392620
+SHUFFLE	COMPRESS_BYTE_COUNT	1364707
+SHUFFLE	COPY_MAP_DATA	246733000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4675167
+SHUFFLE	COMPRESS_BYTE_COUNT	1436134
+SHUFFLE	COPY_MAP_DATA	170869000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1654091
+SHUFFLE	COMPRESS_BYTE_COUNT	516639
+SHUFFLE	COPY_MAP_DATA	27292000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1659827
+SHUFFLE	COMPRESS_BYTE_COUNT	517660
+SHUFFLE	COPY_MAP_DATA	65670000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1668699
+SHUFFLE	COMPRESS_BYTE_COUNT	520704
+SHUFFLE	COPY_MAP_DATA	26940000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1660279
+SHUFFLE	COMPRESS_BYTE_COUNT	518279
+SHUFFLE	COPY_MAP_DATA	25651000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4415623
+SHUFFLE	COMPRESS_BYTE_COUNT	1371820
+SHUFFLE	COPY_MAP_DATA	163399000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1583666
+SHUFFLE	COMPRESS_BYTE_COUNT	500157
+SHUFFLE	COPY_MAP_DATA	27052000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4580802
+SHUFFLE	COMPRESS_BYTE_COUNT	1405470
+SHUFFLE	COPY_MAP_DATA	121664000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4488889
+SHUFFLE	COMPRESS_BYTE_COUNT	1395605
+SHUFFLE	COPY_MAP_DATA	157031000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	485388002089
+MERGE	READ_WRITE	476161226089
+MERGE	READ_WRITE_COUNT	8
+MERGE	COMBINE	0
+MERGE	WRITE	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	13224321000
+SORT	READ_WRITE	12780755000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	212950928
+REDUCE	SETUP	576000
+REDUCE	SETUP_MEM	212950928
+REDUCE	CLEANUP	41000
+REDUCE	CLEANUP_MEM	197420344
+REDUCE	TOTAL_RUN	559539653788
+REDUCE	READ	31029438000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	515449387788
+REDUCE	WRITE	256811153119
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	55897816
+REDUCE	VALUE_BYTE_COUNT	1648305601
+REDUCE	REDUCE_MEM	197422392
+REDUCE	WRITE	296952000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	1270763416813
@@ -0,0 +1,989 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5525293
+SHUFFLE	COMPRESS_BYTE_COUNT	1717888
+SHUFFLE	COPY_MAP_DATA	573699000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5502025
+SHUFFLE	COMPRESS_BYTE_COUNT	1709782
+SHUFFLE	COPY_MAP_DATA	237857000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5423578
+SHUFFLE	COMPRESS_BYTE_COUNT	1685883
+SHUFFLE	COPY_MAP_DATA	117654000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5538797
+SHUFFLE	COMPRESS_BYTE_COUNT	1721851
+SHUFFLE	COPY_MAP_DATA	122273000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5478817
+SHUFFLE	COMPRESS_BYTE_COUNT	1703431
+SHUFFLE	COPY_MAP_DATA	582676000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5527246
+SHUFFLE	COMPRESS_BYTE_COUNT	1718223
+SHUFFLE	COPY_MAP_DATA	98125000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5483966
+SHUFFLE	COMPRESS_BYTE_COUNT	1704077
+SHUFFLE	COPY_MAP_DATA	360092000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5533153
+SHUFFLE	COMPRESS_BYTE_COUNT	1719890
+SHUFFLE	COPY_MAP_DATA	97138000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5472157
+SHUFFLE	COMPRESS_BYTE_COUNT	1722904
+SHUFFLE	COPY_MAP_DATA	284502000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5520295
+SHUFFLE	COMPRESS_BYTE_COUNT	1715017
+SHUFFLE	COPY_MAP_DATA	240631000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5510684
+SHUFFLE	COMPRESS_BYTE_COUNT	1735625
+SHUFFLE	COPY_MAP_DATA	117045000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5468318
+SHUFFLE	COMPRESS_BYTE_COUNT	1699748
+SHUFFLE	COPY_MAP_DATA	124061000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5482537
+SHUFFLE	COMPRESS_BYTE_COUNT	1704097
+SHUFFLE	COPY_MAP_DATA	171601000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5521443
+SHUFFLE	COMPRESS_BYTE_COUNT	1715010
+SHUFFLE	COPY_MAP_DATA	306986000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5520244
+SHUFFLE	COMPRESS_BYTE_COUNT	1715699
+SHUFFLE	COPY_MAP_DATA	86464000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5519389
+SHUFFLE	COMPRESS_BYTE_COUNT	1715711
+SHUFFLE	COPY_MAP_DATA	176767000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5491583
+SHUFFLE	COMPRESS_BYTE_COUNT	1705753
+SHUFFLE	COPY_MAP_DATA	134625000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5532519
+SHUFFLE	COMPRESS_BYTE_COUNT	1719210
+SHUFFLE	COPY_MAP_DATA	93949000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5493949
+SHUFFLE	COMPRESS_BYTE_COUNT	1730127
+SHUFFLE	COPY_MAP_DATA	557489000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5503309
+SHUFFLE	COMPRESS_BYTE_COUNT	1710728
+SHUFFLE	COPY_MAP_DATA	88703000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5525636
+SHUFFLE	COMPRESS_BYTE_COUNT	1717089
+SHUFFLE	COPY_MAP_DATA	126027000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5542024
+SHUFFLE	COMPRESS_BYTE_COUNT	1721917
+SHUFFLE	COPY_MAP_DATA	211025000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5525887
+SHUFFLE	COMPRESS_BYTE_COUNT	1717397
+SHUFFLE	COPY_MAP_DATA	307397000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5556939
+SHUFFLE	COMPRESS_BYTE_COUNT	1727120
+SHUFFLE	COPY_MAP_DATA	1438541000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5451505
+SHUFFLE	COMPRESS_BYTE_COUNT	1716591
+SHUFFLE	COPY_MAP_DATA	150486000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5585651
+SHUFFLE	COMPRESS_BYTE_COUNT	1734656
+SHUFFLE	COPY_MAP_DATA	1054881000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5511416
+SHUFFLE	COMPRESS_BYTE_COUNT	1713159
+SHUFFLE	COPY_MAP_DATA	1543580000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5506162
+SHUFFLE	COMPRESS_BYTE_COUNT	1690717
+SHUFFLE	COPY_MAP_DATA	336532000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5508879
+SHUFFLE	COMPRESS_BYTE_COUNT	1712642
+SHUFFLE	COPY_MAP_DATA	403281000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5501984
+SHUFFLE	COMPRESS_BYTE_COUNT	1759381
+SHUFFLE	COPY_MAP_DATA	1952885686
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5567716
+SHUFFLE	COMPRESS_BYTE_COUNT	1708580
+SHUFFLE	COPY_MAP_DATA	345108000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5505334
+SHUFFLE	COMPRESS_BYTE_COUNT	1710026
+SHUFFLE	COPY_MAP_DATA	121960000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5482730
+SHUFFLE	COMPRESS_BYTE_COUNT	1704237
+SHUFFLE	COPY_MAP_DATA	210566000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5568846
+SHUFFLE	COMPRESS_BYTE_COUNT	1709084
+SHUFFLE	COPY_MAP_DATA	1466894000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5570810
+SHUFFLE	COMPRESS_BYTE_COUNT	1709760
+SHUFFLE	COPY_MAP_DATA	289039000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5528485
+SHUFFLE	COMPRESS_BYTE_COUNT	1697684
+SHUFFLE	COPY_MAP_DATA	91873000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5519892
+SHUFFLE	COMPRESS_BYTE_COUNT	1694488
+SHUFFLE	COPY_MAP_DATA	162027000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5502414
+SHUFFLE	COMPRESS_BYTE_COUNT	1709497
+SHUFFLE	COPY_MAP_DATA	6031356000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5546255
+SHUFFLE	COMPRESS_BYTE_COUNT	1723717
+SHUFFLE	COPY_MAP_DATA	103523000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5455644
+SHUFFLE	COMPRESS_BYTE_COUNT	1695759
+SHUFFLE	COPY_MAP_DATA	568088000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5511636
+SHUFFLE	COMPRESS_BYTE_COUNT	1713380
+SHUFFLE	COPY_MAP_DATA	95307000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5516319
+SHUFFLE	COMPRESS_BYTE_COUNT	1713669
+SHUFFLE	COPY_MAP_DATA	277688000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5511492
+SHUFFLE	COMPRESS_BYTE_COUNT	1713193
+SHUFFLE	COPY_MAP_DATA	687538000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5453419
+SHUFFLE	COMPRESS_BYTE_COUNT	1716409
+SHUFFLE	COPY_MAP_DATA	92225000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5478562
+SHUFFLE	COMPRESS_BYTE_COUNT	1704286
+SHUFFLE	COPY_MAP_DATA	369520000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5505406
+SHUFFLE	COMPRESS_BYTE_COUNT	1709980
+SHUFFLE	COPY_MAP_DATA	111456000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5494943
+SHUFFLE	COMPRESS_BYTE_COUNT	1708584
+SHUFFLE	COPY_MAP_DATA	244052000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5543336
+SHUFFLE	COMPRESS_BYTE_COUNT	1722734
+SHUFFLE	COPY_MAP_DATA	90207000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5523606
+SHUFFLE	COMPRESS_BYTE_COUNT	1696341
+SHUFFLE	COPY_MAP_DATA	88850000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5529826
+SHUFFLE	COMPRESS_BYTE_COUNT	1696320
+SHUFFLE	COPY_MAP_DATA	206981000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5546553
+SHUFFLE	COMPRESS_BYTE_COUNT	1723732
+SHUFFLE	COPY_MAP_DATA	102394000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5492778
+SHUFFLE	COMPRESS_BYTE_COUNT	1707061
+SHUFFLE	COPY_MAP_DATA	200729000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5553279
+SHUFFLE	COMPRESS_BYTE_COUNT	1704207
+SHUFFLE	COPY_MAP_DATA	2357389000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5522591
+SHUFFLE	COMPRESS_BYTE_COUNT	1694445
+SHUFFLE	COPY_MAP_DATA	478293000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5559107
+SHUFFLE	COMPRESS_BYTE_COUNT	1725365
+SHUFFLE	COPY_MAP_DATA	86270000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5481361
+SHUFFLE	COMPRESS_BYTE_COUNT	1682940
+SHUFFLE	COPY_MAP_DATA	95670000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5541316
+SHUFFLE	COMPRESS_BYTE_COUNT	1722692
+SHUFFLE	COPY_MAP_DATA	136674000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5482431
+SHUFFLE	COMPRESS_BYTE_COUNT	1683506
+SHUFFLE	COPY_MAP_DATA	179366000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5542162
+SHUFFLE	COMPRESS_BYTE_COUNT	1701140
+SHUFFLE	COPY_MAP_DATA	141906000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5546236
+SHUFFLE	COMPRESS_BYTE_COUNT	1701862
+SHUFFLE	COPY_MAP_DATA	121423000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5534306
+SHUFFLE	COMPRESS_BYTE_COUNT	1698078
+SHUFFLE	COPY_MAP_DATA	88453000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5544894
+SHUFFLE	COMPRESS_BYTE_COUNT	1702204
+SHUFFLE	COPY_MAP_DATA	140840000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5462075
+SHUFFLE	COMPRESS_BYTE_COUNT	1719705
+SHUFFLE	COPY_MAP_DATA	317548000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5577086
+SHUFFLE	COMPRESS_BYTE_COUNT	1712106
+SHUFFLE	COPY_MAP_DATA	1359917000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5455795
+SHUFFLE	COMPRESS_BYTE_COUNT	1717282
+SHUFFLE	COPY_MAP_DATA	599850000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5572549
+SHUFFLE	COMPRESS_BYTE_COUNT	1710653
+SHUFFLE	COPY_MAP_DATA	305115000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5515853
+SHUFFLE	COMPRESS_BYTE_COUNT	1692868
+SHUFFLE	COPY_MAP_DATA	84238000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5551671
+SHUFFLE	COMPRESS_BYTE_COUNT	1704290
+SHUFFLE	COPY_MAP_DATA	105902000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5518497
+SHUFFLE	COMPRESS_BYTE_COUNT	1694554
+SHUFFLE	COPY_MAP_DATA	818581000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5514804
+SHUFFLE	COMPRESS_BYTE_COUNT	1692978
+SHUFFLE	COPY_MAP_DATA	206122000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5501503
+SHUFFLE	COMPRESS_BYTE_COUNT	1689717
+SHUFFLE	COPY_MAP_DATA	877659000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5583984
+SHUFFLE	COMPRESS_BYTE_COUNT	1714433
+SHUFFLE	COPY_MAP_DATA	512916000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5554426
+SHUFFLE	COMPRESS_BYTE_COUNT	1705380
+SHUFFLE	COPY_MAP_DATA	281006000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5541029
+SHUFFLE	COMPRESS_BYTE_COUNT	1700891
+SHUFFLE	COPY_MAP_DATA	2361452000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5552548
+SHUFFLE	COMPRESS_BYTE_COUNT	1705596
+SHUFFLE	COPY_MAP_DATA	353725000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5506102
+SHUFFLE	COMPRESS_BYTE_COUNT	1690888
+SHUFFLE	COPY_MAP_DATA	572239000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5535570
+SHUFFLE	COMPRESS_BYTE_COUNT	1700433
+SHUFFLE	COPY_MAP_DATA	147699000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5575520
+SHUFFLE	COMPRESS_BYTE_COUNT	1711237
+SHUFFLE	COPY_MAP_DATA	85904000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5560795
+SHUFFLE	COMPRESS_BYTE_COUNT	1707899
+SHUFFLE	COPY_MAP_DATA	91247000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5516072
+SHUFFLE	COMPRESS_BYTE_COUNT	1731532
+SHUFFLE	COPY_MAP_DATA	838100000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5548640
+SHUFFLE	COMPRESS_BYTE_COUNT	1703808
+SHUFFLE	COPY_MAP_DATA	1133175000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5492717
+SHUFFLE	COMPRESS_BYTE_COUNT	1686477
+SHUFFLE	COPY_MAP_DATA	395956000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5527185
+SHUFFLE	COMPRESS_BYTE_COUNT	1697259
+SHUFFLE	COPY_MAP_DATA	137590000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5560108
+SHUFFLE	COMPRESS_BYTE_COUNT	1705833
+SHUFFLE	COPY_MAP_DATA	4387115000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5584716
+SHUFFLE	COMPRESS_BYTE_COUNT	1714722
+SHUFFLE	COPY_MAP_DATA	135732000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5540336
+SHUFFLE	COMPRESS_BYTE_COUNT	1701107
+SHUFFLE	COPY_MAP_DATA	220910000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5614356
+SHUFFLE	COMPRESS_BYTE_COUNT	1724121
+SHUFFLE	COPY_MAP_DATA	113760000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5557566
+SHUFFLE	COMPRESS_BYTE_COUNT	1706223
+SHUFFLE	COPY_MAP_DATA	155083000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5553788
+SHUFFLE	COMPRESS_BYTE_COUNT	1704695
+SHUFFLE	COPY_MAP_DATA	176912000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5485277
+SHUFFLE	COMPRESS_BYTE_COUNT	1683290
+SHUFFLE	COPY_MAP_DATA	7599078000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5451538
+SHUFFLE	COMPRESS_BYTE_COUNT	1673652
+SHUFFLE	COPY_MAP_DATA	2695223000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5566170
+SHUFFLE	COMPRESS_BYTE_COUNT	1707059
+SHUFFLE	COPY_MAP_DATA	119963000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5543305
+SHUFFLE	COMPRESS_BYTE_COUNT	1701059
+SHUFFLE	COPY_MAP_DATA	245901000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5552087
+SHUFFLE	COMPRESS_BYTE_COUNT	1704604
+SHUFFLE	COPY_MAP_DATA	105139000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5536153
+SHUFFLE	COMPRESS_BYTE_COUNT	1698933
+SHUFFLE	COPY_MAP_DATA	3543708000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5520805
+SHUFFLE	COMPRESS_BYTE_COUNT	1695382
+SHUFFLE	COPY_MAP_DATA	87426000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5541502
+SHUFFLE	COMPRESS_BYTE_COUNT	1721041
+SHUFFLE	COPY_MAP_DATA	194475000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5517135
+SHUFFLE	COMPRESS_BYTE_COUNT	1691813
+SHUFFLE	COPY_MAP_DATA	108756000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5446332
+SHUFFLE	COMPRESS_BYTE_COUNT	1692772
+SHUFFLE	COPY_MAP_DATA	93953000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5528767
+SHUFFLE	COMPRESS_BYTE_COUNT	1697250
+SHUFFLE	COPY_MAP_DATA	177522000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5506672
+SHUFFLE	COMPRESS_BYTE_COUNT	1713116
+SHUFFLE	COPY_MAP_DATA	670296000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5601848
+SHUFFLE	COMPRESS_BYTE_COUNT	1718999
+SHUFFLE	COPY_MAP_DATA	91386000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5564267
+SHUFFLE	COMPRESS_BYTE_COUNT	1707683
+SHUFFLE	COPY_MAP_DATA	92723000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5593568
+SHUFFLE	COMPRESS_BYTE_COUNT	1716521
+SHUFFLE	COPY_MAP_DATA	1454194000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5575178
+SHUFFLE	COMPRESS_BYTE_COUNT	1711508
+SHUFFLE	COPY_MAP_DATA	4104770000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5561941
+SHUFFLE	COMPRESS_BYTE_COUNT	1705929
+SHUFFLE	COPY_MAP_DATA	2170977000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5501469
+SHUFFLE	COMPRESS_BYTE_COUNT	1689727
+SHUFFLE	COPY_MAP_DATA	7878809000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5522569
+SHUFFLE	COMPRESS_BYTE_COUNT	1716512
+SHUFFLE	COPY_MAP_DATA	135367000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5550057
+SHUFFLE	COMPRESS_BYTE_COUNT	1703662
+SHUFFLE	COPY_MAP_DATA	1720694000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5541009
+SHUFFLE	COMPRESS_BYTE_COUNT	1699731
+SHUFFLE	COPY_MAP_DATA	187627000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5536168
+SHUFFLE	COMPRESS_BYTE_COUNT	1699776
+SHUFFLE	COPY_MAP_DATA	90993000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5550299
+SHUFFLE	COMPRESS_BYTE_COUNT	1704230
+SHUFFLE	COPY_MAP_DATA	709639000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5549212
+SHUFFLE	COMPRESS_BYTE_COUNT	1704193
+SHUFFLE	COPY_MAP_DATA	2863514000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5523676
+SHUFFLE	COMPRESS_BYTE_COUNT	1696051
+SHUFFLE	COPY_MAP_DATA	91886000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5547712
+SHUFFLE	COMPRESS_BYTE_COUNT	1702888
+SHUFFLE	COPY_MAP_DATA	122570000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5643929
+SHUFFLE	COMPRESS_BYTE_COUNT	1731170
+SHUFFLE	COPY_MAP_DATA	3514382000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5525215
+SHUFFLE	COMPRESS_BYTE_COUNT	1717471
+SHUFFLE	COPY_MAP_DATA	91366000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5517473
+SHUFFLE	COMPRESS_BYTE_COUNT	1714956
+SHUFFLE	COPY_MAP_DATA	122128000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5506852
+SHUFFLE	COMPRESS_BYTE_COUNT	1712080
+SHUFFLE	COPY_MAP_DATA	126960000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5493111
+SHUFFLE	COMPRESS_BYTE_COUNT	1707508
+SHUFFLE	COPY_MAP_DATA	90674000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5555290
+SHUFFLE	COMPRESS_BYTE_COUNT	1727660
+SHUFFLE	COPY_MAP_DATA	150938000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5533606
+SHUFFLE	COMPRESS_BYTE_COUNT	1719399
+SHUFFLE	COPY_MAP_DATA	2182775000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5528897
+SHUFFLE	COMPRESS_BYTE_COUNT	1695691
+SHUFFLE	COPY_MAP_DATA	97659000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5544550
+SHUFFLE	COMPRESS_BYTE_COUNT	1723092
+SHUFFLE	COPY_MAP_DATA	230021000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5466949
+SHUFFLE	COMPRESS_BYTE_COUNT	1699552
+SHUFFLE	COPY_MAP_DATA	271781000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5524971
+SHUFFLE	COMPRESS_BYTE_COUNT	1717960
+SHUFFLE	COPY_MAP_DATA	122451000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5543550
+SHUFFLE	COMPRESS_BYTE_COUNT	1721769
+SHUFFLE	COPY_MAP_DATA	95210000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5552523
+SHUFFLE	COMPRESS_BYTE_COUNT	1725484
+SHUFFLE	COPY_MAP_DATA	492127000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5485865
+SHUFFLE	COMPRESS_BYTE_COUNT	1705228
+SHUFFLE	COPY_MAP_DATA	716278000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5527821
+SHUFFLE	COMPRESS_BYTE_COUNT	1717803
+SHUFFLE	COPY_MAP_DATA	3200830000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5580365
+SHUFFLE	COMPRESS_BYTE_COUNT	1712444
+SHUFFLE	COPY_MAP_DATA	412942000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5574256
+SHUFFLE	COMPRESS_BYTE_COUNT	1731495
+SHUFFLE	COPY_MAP_DATA	100766000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5513251
+SHUFFLE	COMPRESS_BYTE_COUNT	1713385
+SHUFFLE	COPY_MAP_DATA	86136000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5630352
+SHUFFLE	COMPRESS_BYTE_COUNT	1728241
+SHUFFLE	COPY_MAP_DATA	308282000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5546494
+SHUFFLE	COMPRESS_BYTE_COUNT	1722392
+SHUFFLE	COPY_MAP_DATA	119227000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5480432
+SHUFFLE	COMPRESS_BYTE_COUNT	1703188
+SHUFFLE	COPY_MAP_DATA	88876000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5530170
+SHUFFLE	COMPRESS_BYTE_COUNT	1718718
+SHUFFLE	COPY_MAP_DATA	90149000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5461138
+SHUFFLE	COMPRESS_BYTE_COUNT	1698230
+SHUFFLE	COPY_MAP_DATA	235118000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5491189
+SHUFFLE	COMPRESS_BYTE_COUNT	1708112
+SHUFFLE	COPY_MAP_DATA	89754000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5517114
+SHUFFLE	COMPRESS_BYTE_COUNT	1714119
+SHUFFLE	COPY_MAP_DATA	105659000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5512957
+SHUFFLE	COMPRESS_BYTE_COUNT	1713677
+SHUFFLE	COPY_MAP_DATA	99379000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5438885
+SHUFFLE	COMPRESS_BYTE_COUNT	1690627
+SHUFFLE	COPY_MAP_DATA	221186000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5517837
+SHUFFLE	COMPRESS_BYTE_COUNT	1714822
+SHUFFLE	COPY_MAP_DATA	911016000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5495218
+SHUFFLE	COMPRESS_BYTE_COUNT	1708353
+SHUFFLE	COPY_MAP_DATA	655238000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5526734
+SHUFFLE	COMPRESS_BYTE_COUNT	1716660
+SHUFFLE	COPY_MAP_DATA	325856000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5471937
+SHUFFLE	COMPRESS_BYTE_COUNT	1701284
+SHUFFLE	COPY_MAP_DATA	770438000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5506553
+SHUFFLE	COMPRESS_BYTE_COUNT	1712576
+SHUFFLE	COPY_MAP_DATA	2429945000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5565145
+SHUFFLE	COMPRESS_BYTE_COUNT	1733361
+SHUFFLE	COPY_MAP_DATA	117927000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5563066
+SHUFFLE	COMPRESS_BYTE_COUNT	1732147
+SHUFFLE	COPY_MAP_DATA	293294000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5572452
+SHUFFLE	COMPRESS_BYTE_COUNT	1732320
+SHUFFLE	COPY_MAP_DATA	220170000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5562743
+SHUFFLE	COMPRESS_BYTE_COUNT	1732614
+SHUFFLE	COPY_MAP_DATA	85129000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5598501
+SHUFFLE	COMPRESS_BYTE_COUNT	1727640
+SHUFFLE	COPY_MAP_DATA	173175000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5553589
+SHUFFLE	COMPRESS_BYTE_COUNT	1726936
+SHUFFLE	COPY_MAP_DATA	263168000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5552149
+SHUFFLE	COMPRESS_BYTE_COUNT	1729802
+SHUFFLE	COPY_MAP_DATA	130826000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5588748
+SHUFFLE	COMPRESS_BYTE_COUNT	1725433
+SHUFFLE	COPY_MAP_DATA	111989000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5564111
+SHUFFLE	COMPRESS_BYTE_COUNT	1732807
+SHUFFLE	COPY_MAP_DATA	3534049000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5609114
+SHUFFLE	COMPRESS_BYTE_COUNT	1730496
+SHUFFLE	COPY_MAP_DATA	119007000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5544392
+SHUFFLE	COMPRESS_BYTE_COUNT	1728145
+SHUFFLE	COPY_MAP_DATA	90914000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5569796
+SHUFFLE	COMPRESS_BYTE_COUNT	1719577
+SHUFFLE	COPY_MAP_DATA	90183000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5564767
+SHUFFLE	COMPRESS_BYTE_COUNT	1728915
+SHUFFLE	COPY_MAP_DATA	619743000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5578421
+SHUFFLE	COMPRESS_BYTE_COUNT	1734492
+SHUFFLE	COPY_MAP_DATA	312248000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5584636
+SHUFFLE	COMPRESS_BYTE_COUNT	1724177
+SHUFFLE	COPY_MAP_DATA	5057709000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4717010
+SHUFFLE	COMPRESS_BYTE_COUNT	1449028
+SHUFFLE	COPY_MAP_DATA	458092000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5561149
+SHUFFLE	COMPRESS_BYTE_COUNT	1731777
+SHUFFLE	COPY_MAP_DATA	174677000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4480679
+SHUFFLE	COMPRESS_BYTE_COUNT	1393054
+SHUFFLE	COPY_MAP_DATA	72725000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4745436
+SHUFFLE	COMPRESS_BYTE_COUNT	1456557
+SHUFFLE	COPY_MAP_DATA	80155000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4456976
+SHUFFLE	COMPRESS_BYTE_COUNT	1385178
+SHUFFLE	COPY_MAP_DATA	303022000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5591652
+SHUFFLE	COMPRESS_BYTE_COUNT	1726692
+SHUFFLE	COPY_MAP_DATA	137140000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4758239
+SHUFFLE	COMPRESS_BYTE_COUNT	1461475
+SHUFFLE	COPY_MAP_DATA	76030000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5591082
+SHUFFLE	COMPRESS_BYTE_COUNT	1725747
+SHUFFLE	COPY_MAP_DATA	90443000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5542131
+SHUFFLE	COMPRESS_BYTE_COUNT	1727453
+SHUFFLE	COPY_MAP_DATA	444295000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5583698
+SHUFFLE	COMPRESS_BYTE_COUNT	1724536
+SHUFFLE	COPY_MAP_DATA	140389000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5504154
+SHUFFLE	COMPRESS_BYTE_COUNT	1733912
+SHUFFLE	COPY_MAP_DATA	92221000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5577239
+SHUFFLE	COMPRESS_BYTE_COUNT	1722873
+SHUFFLE	COPY_MAP_DATA	112332000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5543725
+SHUFFLE	COMPRESS_BYTE_COUNT	1727345
+SHUFFLE	COPY_MAP_DATA	90613000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4413300
+SHUFFLE	COMPRESS_BYTE_COUNT	1373102
+SHUFFLE	COPY_MAP_DATA	130874000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5510006
+SHUFFLE	COMPRESS_BYTE_COUNT	1748213
+SHUFFLE	COPY_MAP_DATA	292776000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4443084
+SHUFFLE	COMPRESS_BYTE_COUNT	1380134
+SHUFFLE	COPY_MAP_DATA	94429000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5601463
+SHUFFLE	COMPRESS_BYTE_COUNT	1729746
+SHUFFLE	COPY_MAP_DATA	216975000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5582417
+SHUFFLE	COMPRESS_BYTE_COUNT	1722601
+SHUFFLE	COPY_MAP_DATA	428371000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1736527
+SHUFFLE	COMPRESS_BYTE_COUNT	537082
+SHUFFLE	COPY_MAP_DATA	80419000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5558841
+SHUFFLE	COMPRESS_BYTE_COUNT	1731595
+SHUFFLE	COPY_MAP_DATA	96272000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5601919
+SHUFFLE	COMPRESS_BYTE_COUNT	1729509
+SHUFFLE	COPY_MAP_DATA	249537000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1734723
+SHUFFLE	COMPRESS_BYTE_COUNT	536379
+SHUFFLE	COPY_MAP_DATA	238755000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5596522
+SHUFFLE	COMPRESS_BYTE_COUNT	1726469
+SHUFFLE	COPY_MAP_DATA	90229000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4736773
+SHUFFLE	COMPRESS_BYTE_COUNT	1453380
+SHUFFLE	COPY_MAP_DATA	96523000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4677195
+SHUFFLE	COMPRESS_BYTE_COUNT	1434999
+SHUFFLE	COPY_MAP_DATA	71626000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4482708
+SHUFFLE	COMPRESS_BYTE_COUNT	1393203
+SHUFFLE	COPY_MAP_DATA	73785000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4465160
+SHUFFLE	COMPRESS_BYTE_COUNT	1388788
+SHUFFLE	COPY_MAP_DATA	89766000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5550162
+SHUFFLE	COMPRESS_BYTE_COUNT	1729689
+SHUFFLE	COPY_MAP_DATA	98867000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4695011
+SHUFFLE	COMPRESS_BYTE_COUNT	1440456
+SHUFFLE	COPY_MAP_DATA	328430000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4443260
+SHUFFLE	COMPRESS_BYTE_COUNT	1381263
+SHUFFLE	COPY_MAP_DATA	290854000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1738202
+SHUFFLE	COMPRESS_BYTE_COUNT	537514
+SHUFFLE	COPY_MAP_DATA	2398579000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5557072
+SHUFFLE	COMPRESS_BYTE_COUNT	1731100
+SHUFFLE	COPY_MAP_DATA	323646000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1732163
+SHUFFLE	COMPRESS_BYTE_COUNT	535541
+SHUFFLE	COPY_MAP_DATA	29565000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1660740
+SHUFFLE	COMPRESS_BYTE_COUNT	518336
+SHUFFLE	COPY_MAP_DATA	44730000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4738741
+SHUFFLE	COMPRESS_BYTE_COUNT	1454842
+SHUFFLE	COPY_MAP_DATA	416722000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5554836
+SHUFFLE	COMPRESS_BYTE_COUNT	1730716
+SHUFFLE	COPY_MAP_DATA	1379468000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4468935
+SHUFFLE	COMPRESS_BYTE_COUNT	1388685
+SHUFFLE	COPY_MAP_DATA	67418000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4427764
+SHUFFLE	COMPRESS_BYTE_COUNT	1375929
+SHUFFLE	COPY_MAP_DATA	90944000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4705517
+SHUFFLE	COMPRESS_BYTE_COUNT	1445256
+SHUFFLE	COPY_MAP_DATA	347233000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1736286
+SHUFFLE	COMPRESS_BYTE_COUNT	536789
+SHUFFLE	COPY_MAP_DATA	187665000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1664133
+SHUFFLE	COMPRESS_BYTE_COUNT	519714
+SHUFFLE	COPY_MAP_DATA	39206000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1736023
+SHUFFLE	COMPRESS_BYTE_COUNT	537179
+SHUFFLE	COPY_MAP_DATA	27968000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5553668
+SHUFFLE	COMPRESS_BYTE_COUNT	1731116
+SHUFFLE	COPY_MAP_DATA	89292000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1744726
+SHUFFLE	COMPRESS_BYTE_COUNT	539491
+SHUFFLE	COPY_MAP_DATA	76849000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4751283
+SHUFFLE	COMPRESS_BYTE_COUNT	1459503
+SHUFFLE	COPY_MAP_DATA	1653963000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1743947
+SHUFFLE	COMPRESS_BYTE_COUNT	539463
+SHUFFLE	COPY_MAP_DATA	29586000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4734471
+SHUFFLE	COMPRESS_BYTE_COUNT	1453164
+SHUFFLE	COPY_MAP_DATA	238418000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1744162
+SHUFFLE	COMPRESS_BYTE_COUNT	538927
+SHUFFLE	COPY_MAP_DATA	30320000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4771175
+SHUFFLE	COMPRESS_BYTE_COUNT	1463465
+SHUFFLE	COPY_MAP_DATA	744280000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4489567
+SHUFFLE	COMPRESS_BYTE_COUNT	1395370
+SHUFFLE	COPY_MAP_DATA	85616000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4734633
+SHUFFLE	COMPRESS_BYTE_COUNT	1452745
+SHUFFLE	COPY_MAP_DATA	285221000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4145042
+SHUFFLE	COMPRESS_BYTE_COUNT	1305156
+SHUFFLE	COPY_MAP_DATA	68098000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1661673
+SHUFFLE	COMPRESS_BYTE_COUNT	518638
+SHUFFLE	COPY_MAP_DATA	28292000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1668073
+SHUFFLE	COMPRESS_BYTE_COUNT	520046
+SHUFFLE	COPY_MAP_DATA	29606000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1733989
+SHUFFLE	COMPRESS_BYTE_COUNT	536351
+SHUFFLE	COPY_MAP_DATA	74010000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4461738
+SHUFFLE	COMPRESS_BYTE_COUNT	1387250
+SHUFFLE	COPY_MAP_DATA	73172000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1672132
+SHUFFLE	COMPRESS_BYTE_COUNT	521297
+SHUFFLE	COPY_MAP_DATA	143143000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1738531
+SHUFFLE	COMPRESS_BYTE_COUNT	537770
+SHUFFLE	COPY_MAP_DATA	30570000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1671634
+SHUFFLE	COMPRESS_BYTE_COUNT	521252
+SHUFFLE	COPY_MAP_DATA	65645000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4262761
+SHUFFLE	COMPRESS_BYTE_COUNT	1326426
+SHUFFLE	COPY_MAP_DATA	71104000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1627441
+SHUFFLE	COMPRESS_BYTE_COUNT	508259
+SHUFFLE	COPY_MAP_DATA	28086000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1727701
+SHUFFLE	COMPRESS_BYTE_COUNT	534997
+SHUFFLE	COPY_MAP_DATA	466524000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1669853
+SHUFFLE	COMPRESS_BYTE_COUNT	521271
+SHUFFLE	COPY_MAP_DATA	29211000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1748504
+SHUFFLE	COMPRESS_BYTE_COUNT	540280
+SHUFFLE	COPY_MAP_DATA	30234000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1705129
+SHUFFLE	COMPRESS_BYTE_COUNT	527073
+SHUFFLE	COPY_MAP_DATA	30246000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1657725
+SHUFFLE	COMPRESS_BYTE_COUNT	517202
+SHUFFLE	COPY_MAP_DATA	192890000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1662900
+SHUFFLE	COMPRESS_BYTE_COUNT	518976
+SHUFFLE	COPY_MAP_DATA	48975000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1673595
+SHUFFLE	COMPRESS_BYTE_COUNT	522228
+SHUFFLE	COPY_MAP_DATA	29419000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4414387
+SHUFFLE	COMPRESS_BYTE_COUNT	1373024
+SHUFFLE	COPY_MAP_DATA	485421000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4641138
+SHUFFLE	COMPRESS_BYTE_COUNT	1424800
+SHUFFLE	COPY_MAP_DATA	383095000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1660220
+SHUFFLE	COMPRESS_BYTE_COUNT	518335
+SHUFFLE	COPY_MAP_DATA	150932000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4449863
+SHUFFLE	COMPRESS_BYTE_COUNT	1382815
+SHUFFLE	COPY_MAP_DATA	287210000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1655632
+SHUFFLE	COMPRESS_BYTE_COUNT	516482
+SHUFFLE	COPY_MAP_DATA	28316000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1668089
+SHUFFLE	COMPRESS_BYTE_COUNT	520967
+SHUFFLE	COPY_MAP_DATA	156886000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1659297
+SHUFFLE	COMPRESS_BYTE_COUNT	518513
+SHUFFLE	COPY_MAP_DATA	172427000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1585966
+SHUFFLE	COMPRESS_BYTE_COUNT	500140
+SHUFFLE	COPY_MAP_DATA	27501000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4582502
+SHUFFLE	COMPRESS_BYTE_COUNT	1406645
+SHUFFLE	COPY_MAP_DATA	79080000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4504869
+SHUFFLE	COMPRESS_BYTE_COUNT	1400143
+SHUFFLE	COPY_MAP_DATA	93476000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	480654235686
+MERGE	READ_WRITE	474510901686
+MERGE	READ_WRITE_COUNT	8
+MERGE	COMBINE	0
+MERGE	WRITE	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	10182630000
+SORT	READ_WRITE	9924199000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	199883288
+REDUCE	SETUP	5361000
+REDUCE	SETUP_MEM	199883288
+REDUCE	CLEANUP	48000
+REDUCE	CLEANUP_MEM	218735880
+REDUCE	TOTAL_RUN	396031806122
+REDUCE	READ	20649975000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	365304006122
+REDUCE	WRITE	120040587122
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	55872606
+REDUCE	VALUE_BYTE_COUNT	1647412712
+REDUCE	REDUCE_MEM	218735880
+REDUCE	WRITE	382667000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	1098318138808
@@ -0,0 +1,989 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5481969
+SHUFFLE	COMPRESS_BYTE_COUNT	1704103
+SHUFFLE	COPY_MAP_DATA	257583000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5509839
+SHUFFLE	COMPRESS_BYTE_COUNT	1712360
+SHUFFLE	COPY_MAP_DATA	366834000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5507665
+SHUFFLE	COMPRESS_BYTE_COUNT	1711429
+SHUFFLE	COPY_MAP_DATA	279723000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5483108
+SHUFFLE	COMPRESS_BYTE_COUNT	1726151
+SHUFFLE	COPY_MAP_DATA	111843000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5522096
+SHUFFLE	COMPRESS_BYTE_COUNT	1715703
+SHUFFLE	COPY_MAP_DATA	142925000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5480679
+SHUFFLE	COMPRESS_BYTE_COUNT	1724671
+SHUFFLE	COPY_MAP_DATA	94583000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5505006
+SHUFFLE	COMPRESS_BYTE_COUNT	1710431
+SHUFFLE	COPY_MAP_DATA	168258000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5518195
+SHUFFLE	COMPRESS_BYTE_COUNT	1715043
+SHUFFLE	COPY_MAP_DATA	118597000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5570960
+SHUFFLE	COMPRESS_BYTE_COUNT	1731130
+SHUFFLE	COPY_MAP_DATA	171290000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5515711
+SHUFFLE	COMPRESS_BYTE_COUNT	1713389
+SHUFFLE	COPY_MAP_DATA	86597000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5516070
+SHUFFLE	COMPRESS_BYTE_COUNT	1713442
+SHUFFLE	COPY_MAP_DATA	107331000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5512011
+SHUFFLE	COMPRESS_BYTE_COUNT	1713842
+SHUFFLE	COPY_MAP_DATA	87403000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5434034
+SHUFFLE	COMPRESS_BYTE_COUNT	1690413
+SHUFFLE	COPY_MAP_DATA	87547000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5471530
+SHUFFLE	COMPRESS_BYTE_COUNT	1701221
+SHUFFLE	COPY_MAP_DATA	710411000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5523755
+SHUFFLE	COMPRESS_BYTE_COUNT	1716676
+SHUFFLE	COPY_MAP_DATA	152756000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5514262
+SHUFFLE	COMPRESS_BYTE_COUNT	1714601
+SHUFFLE	COPY_MAP_DATA	110536000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5599925
+SHUFFLE	COMPRESS_BYTE_COUNT	1740082
+SHUFFLE	COPY_MAP_DATA	176807000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5503971
+SHUFFLE	COMPRESS_BYTE_COUNT	1710555
+SHUFFLE	COPY_MAP_DATA	293223000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5490787
+SHUFFLE	COMPRESS_BYTE_COUNT	1707805
+SHUFFLE	COPY_MAP_DATA	211590000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5454154
+SHUFFLE	COMPRESS_BYTE_COUNT	1695608
+SHUFFLE	COPY_MAP_DATA	299752000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5508113
+SHUFFLE	COMPRESS_BYTE_COUNT	1711851
+SHUFFLE	COPY_MAP_DATA	141823000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5515744
+SHUFFLE	COMPRESS_BYTE_COUNT	1713161
+SHUFFLE	COPY_MAP_DATA	175588000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5503416
+SHUFFLE	COMPRESS_BYTE_COUNT	1731535
+SHUFFLE	COPY_MAP_DATA	187935000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5550047
+SHUFFLE	COMPRESS_BYTE_COUNT	1724549
+SHUFFLE	COPY_MAP_DATA	223388000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5552597
+SHUFFLE	COMPRESS_BYTE_COUNT	1726038
+SHUFFLE	COPY_MAP_DATA	102099000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5495711
+SHUFFLE	COMPRESS_BYTE_COUNT	1708546
+SHUFFLE	COPY_MAP_DATA	520684000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5535521
+SHUFFLE	COMPRESS_BYTE_COUNT	1699649
+SHUFFLE	COPY_MAP_DATA	6812577000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5573249
+SHUFFLE	COMPRESS_BYTE_COUNT	1731163
+SHUFFLE	COPY_MAP_DATA	518735000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5460790
+SHUFFLE	COMPRESS_BYTE_COUNT	1718890
+SHUFFLE	COPY_MAP_DATA	335800000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5466058
+SHUFFLE	COMPRESS_BYTE_COUNT	1748165
+SHUFFLE	COPY_MAP_DATA	1894137000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5614224
+SHUFFLE	COMPRESS_BYTE_COUNT	1722727
+SHUFFLE	COPY_MAP_DATA	128159000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5531360
+SHUFFLE	COMPRESS_BYTE_COUNT	1717779
+SHUFFLE	COPY_MAP_DATA	99910000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5481571
+SHUFFLE	COMPRESS_BYTE_COUNT	1704868
+SHUFFLE	COPY_MAP_DATA	379762000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5533289
+SHUFFLE	COMPRESS_BYTE_COUNT	1698179
+SHUFFLE	COPY_MAP_DATA	313582000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5574402
+SHUFFLE	COMPRESS_BYTE_COUNT	1711459
+SHUFFLE	COPY_MAP_DATA	241079000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5562453
+SHUFFLE	COMPRESS_BYTE_COUNT	1707988
+SHUFFLE	COPY_MAP_DATA	87206000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5521540
+SHUFFLE	COMPRESS_BYTE_COUNT	1716529
+SHUFFLE	COPY_MAP_DATA	116927000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5514126
+SHUFFLE	COMPRESS_BYTE_COUNT	1714084
+SHUFFLE	COPY_MAP_DATA	909024000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5578080
+SHUFFLE	COMPRESS_BYTE_COUNT	1711825
+SHUFFLE	COPY_MAP_DATA	793400000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5550371
+SHUFFLE	COMPRESS_BYTE_COUNT	1724594
+SHUFFLE	COPY_MAP_DATA	7375018000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5493174
+SHUFFLE	COMPRESS_BYTE_COUNT	1706646
+SHUFFLE	COPY_MAP_DATA	91294000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5549113
+SHUFFLE	COMPRESS_BYTE_COUNT	1704214
+SHUFFLE	COPY_MAP_DATA	85708000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5484610
+SHUFFLE	COMPRESS_BYTE_COUNT	1703293
+SHUFFLE	COPY_MAP_DATA	324932000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5513281
+SHUFFLE	COMPRESS_BYTE_COUNT	1713220
+SHUFFLE	COPY_MAP_DATA	1555143000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5477260
+SHUFFLE	COMPRESS_BYTE_COUNT	1703390
+SHUFFLE	COPY_MAP_DATA	86101000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5447808
+SHUFFLE	COMPRESS_BYTE_COUNT	1693685
+SHUFFLE	COPY_MAP_DATA	275881000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5504287
+SHUFFLE	COMPRESS_BYTE_COUNT	1731878
+SHUFFLE	COPY_MAP_DATA	153158000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5498390
+SHUFFLE	COMPRESS_BYTE_COUNT	1708803
+SHUFFLE	COPY_MAP_DATA	249821000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5544619
+SHUFFLE	COMPRESS_BYTE_COUNT	1723168
+SHUFFLE	COPY_MAP_DATA	1059565000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5561385
+SHUFFLE	COMPRESS_BYTE_COUNT	1708418
+SHUFFLE	COPY_MAP_DATA	923818000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5568323
+SHUFFLE	COMPRESS_BYTE_COUNT	1730007
+SHUFFLE	COPY_MAP_DATA	6393433000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5547179
+SHUFFLE	COMPRESS_BYTE_COUNT	1702265
+SHUFFLE	COPY_MAP_DATA	2953658000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5444135
+SHUFFLE	COMPRESS_BYTE_COUNT	1692631
+SHUFFLE	COPY_MAP_DATA	1058288000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5565922
+SHUFFLE	COMPRESS_BYTE_COUNT	1708612
+SHUFFLE	COPY_MAP_DATA	88009000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5489158
+SHUFFLE	COMPRESS_BYTE_COUNT	1684743
+SHUFFLE	COPY_MAP_DATA	85620000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5513390
+SHUFFLE	COMPRESS_BYTE_COUNT	1710265
+SHUFFLE	COPY_MAP_DATA	87513000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5524252
+SHUFFLE	COMPRESS_BYTE_COUNT	1696881
+SHUFFLE	COPY_MAP_DATA	1173960000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5480341
+SHUFFLE	COMPRESS_BYTE_COUNT	1703367
+SHUFFLE	COPY_MAP_DATA	462573000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5526780
+SHUFFLE	COMPRESS_BYTE_COUNT	1697060
+SHUFFLE	COPY_MAP_DATA	94238000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5551277
+SHUFFLE	COMPRESS_BYTE_COUNT	1704700
+SHUFFLE	COPY_MAP_DATA	1731092000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5574602
+SHUFFLE	COMPRESS_BYTE_COUNT	1710411
+SHUFFLE	COPY_MAP_DATA	90625000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5568648
+SHUFFLE	COMPRESS_BYTE_COUNT	1708584
+SHUFFLE	COPY_MAP_DATA	378263000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5435710
+SHUFFLE	COMPRESS_BYTE_COUNT	1711200
+SHUFFLE	COPY_MAP_DATA	95652000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5540065
+SHUFFLE	COMPRESS_BYTE_COUNT	1701254
+SHUFFLE	COPY_MAP_DATA	88165000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5551695
+SHUFFLE	COMPRESS_BYTE_COUNT	1704279
+SHUFFLE	COPY_MAP_DATA	1792320000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5420494
+SHUFFLE	COMPRESS_BYTE_COUNT	1707502
+SHUFFLE	COPY_MAP_DATA	152343000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5538133
+SHUFFLE	COMPRESS_BYTE_COUNT	1700225
+SHUFFLE	COPY_MAP_DATA	102773000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5541993
+SHUFFLE	COMPRESS_BYTE_COUNT	1699857
+SHUFFLE	COPY_MAP_DATA	83359000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5564889
+SHUFFLE	COMPRESS_BYTE_COUNT	1707348
+SHUFFLE	COPY_MAP_DATA	99402000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5583571
+SHUFFLE	COMPRESS_BYTE_COUNT	1712813
+SHUFFLE	COPY_MAP_DATA	290976000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5589793
+SHUFFLE	COMPRESS_BYTE_COUNT	1715363
+SHUFFLE	COPY_MAP_DATA	91016000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5607038
+SHUFFLE	COMPRESS_BYTE_COUNT	1721460
+SHUFFLE	COPY_MAP_DATA	189460000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5513127
+SHUFFLE	COMPRESS_BYTE_COUNT	1691769
+SHUFFLE	COPY_MAP_DATA	865228000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5529438
+SHUFFLE	COMPRESS_BYTE_COUNT	1697636
+SHUFFLE	COPY_MAP_DATA	891518000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5616243
+SHUFFLE	COMPRESS_BYTE_COUNT	1723569
+SHUFFLE	COPY_MAP_DATA	140371000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5557431
+SHUFFLE	COMPRESS_BYTE_COUNT	1705918
+SHUFFLE	COPY_MAP_DATA	454344000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5559351
+SHUFFLE	COMPRESS_BYTE_COUNT	1746977
+SHUFFLE	COPY_MAP_DATA	317708000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5615788
+SHUFFLE	COMPRESS_BYTE_COUNT	1723084
+SHUFFLE	COPY_MAP_DATA	1317327000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5525864
+SHUFFLE	COMPRESS_BYTE_COUNT	1696348
+SHUFFLE	COPY_MAP_DATA	1562204000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5576734
+SHUFFLE	COMPRESS_BYTE_COUNT	1711873
+SHUFFLE	COPY_MAP_DATA	1190166000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5514876
+SHUFFLE	COMPRESS_BYTE_COUNT	1692778
+SHUFFLE	COPY_MAP_DATA	337549000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5551791
+SHUFFLE	COMPRESS_BYTE_COUNT	1704751
+SHUFFLE	COPY_MAP_DATA	87769000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5588496
+SHUFFLE	COMPRESS_BYTE_COUNT	1714582
+SHUFFLE	COPY_MAP_DATA	87978000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5568492
+SHUFFLE	COMPRESS_BYTE_COUNT	1709501
+SHUFFLE	COPY_MAP_DATA	7646663000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5567232
+SHUFFLE	COMPRESS_BYTE_COUNT	1709866
+SHUFFLE	COPY_MAP_DATA	138087000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5573378
+SHUFFLE	COMPRESS_BYTE_COUNT	1711177
+SHUFFLE	COPY_MAP_DATA	289396000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5572348
+SHUFFLE	COMPRESS_BYTE_COUNT	1710183
+SHUFFLE	COPY_MAP_DATA	125724000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5561288
+SHUFFLE	COMPRESS_BYTE_COUNT	1707442
+SHUFFLE	COPY_MAP_DATA	94599000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5512408
+SHUFFLE	COMPRESS_BYTE_COUNT	1691683
+SHUFFLE	COPY_MAP_DATA	2061926000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5541647
+SHUFFLE	COMPRESS_BYTE_COUNT	1699884
+SHUFFLE	COPY_MAP_DATA	456868000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5559072
+SHUFFLE	COMPRESS_BYTE_COUNT	1706368
+SHUFFLE	COPY_MAP_DATA	2373905000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5545756
+SHUFFLE	COMPRESS_BYTE_COUNT	1702928
+SHUFFLE	COPY_MAP_DATA	677004000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5528574
+SHUFFLE	COMPRESS_BYTE_COUNT	1697431
+SHUFFLE	COPY_MAP_DATA	87912000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5515355
+SHUFFLE	COMPRESS_BYTE_COUNT	1692871
+SHUFFLE	COPY_MAP_DATA	588937000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5538529
+SHUFFLE	COMPRESS_BYTE_COUNT	1700364
+SHUFFLE	COPY_MAP_DATA	111172000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5538043
+SHUFFLE	COMPRESS_BYTE_COUNT	1699507
+SHUFFLE	COPY_MAP_DATA	2390541000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5487429
+SHUFFLE	COMPRESS_BYTE_COUNT	1706459
+SHUFFLE	COPY_MAP_DATA	82477000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5502407
+SHUFFLE	COMPRESS_BYTE_COUNT	1688671
+SHUFFLE	COPY_MAP_DATA	81835000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5483442
+SHUFFLE	COMPRESS_BYTE_COUNT	1704810
+SHUFFLE	COPY_MAP_DATA	214444000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5581234
+SHUFFLE	COMPRESS_BYTE_COUNT	1714089
+SHUFFLE	COPY_MAP_DATA	175420000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5503704
+SHUFFLE	COMPRESS_BYTE_COUNT	1711443
+SHUFFLE	COPY_MAP_DATA	581681000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5545198
+SHUFFLE	COMPRESS_BYTE_COUNT	1701852
+SHUFFLE	COPY_MAP_DATA	398589000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5557767
+SHUFFLE	COMPRESS_BYTE_COUNT	1706567
+SHUFFLE	COPY_MAP_DATA	179453000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5570816
+SHUFFLE	COMPRESS_BYTE_COUNT	1709631
+SHUFFLE	COPY_MAP_DATA	2160501000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5556409
+SHUFFLE	COMPRESS_BYTE_COUNT	1704894
+SHUFFLE	COPY_MAP_DATA	804699000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5581055
+SHUFFLE	COMPRESS_BYTE_COUNT	1713291
+SHUFFLE	COPY_MAP_DATA	2084329000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5570896
+SHUFFLE	COMPRESS_BYTE_COUNT	1711008
+SHUFFLE	COPY_MAP_DATA	86343000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5581656
+SHUFFLE	COMPRESS_BYTE_COUNT	1712274
+SHUFFLE	COPY_MAP_DATA	97396000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5549927
+SHUFFLE	COMPRESS_BYTE_COUNT	1724036
+SHUFFLE	COPY_MAP_DATA	288821000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5566818
+SHUFFLE	COMPRESS_BYTE_COUNT	1708536
+SHUFFLE	COPY_MAP_DATA	118780000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5545539
+SHUFFLE	COMPRESS_BYTE_COUNT	1701833
+SHUFFLE	COPY_MAP_DATA	295807000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5559696
+SHUFFLE	COMPRESS_BYTE_COUNT	1706615
+SHUFFLE	COPY_MAP_DATA	2839754000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5581783
+SHUFFLE	COMPRESS_BYTE_COUNT	1713669
+SHUFFLE	COPY_MAP_DATA	848988000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5508604
+SHUFFLE	COMPRESS_BYTE_COUNT	1691216
+SHUFFLE	COPY_MAP_DATA	799047000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5572913
+SHUFFLE	COMPRESS_BYTE_COUNT	1710892
+SHUFFLE	COPY_MAP_DATA	11296210894
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5489437
+SHUFFLE	COMPRESS_BYTE_COUNT	1685674
+SHUFFLE	COPY_MAP_DATA	104420000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5505220
+SHUFFLE	COMPRESS_BYTE_COUNT	1712365
+SHUFFLE	COPY_MAP_DATA	87626000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5503869
+SHUFFLE	COMPRESS_BYTE_COUNT	1711111
+SHUFFLE	COPY_MAP_DATA	173699000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5542621
+SHUFFLE	COMPRESS_BYTE_COUNT	1722117
+SHUFFLE	COPY_MAP_DATA	96748000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5577292
+SHUFFLE	COMPRESS_BYTE_COUNT	1733737
+SHUFFLE	COPY_MAP_DATA	82206000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5533185
+SHUFFLE	COMPRESS_BYTE_COUNT	1718380
+SHUFFLE	COPY_MAP_DATA	2391720000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5555949
+SHUFFLE	COMPRESS_BYTE_COUNT	1705120
+SHUFFLE	COPY_MAP_DATA	221920000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5521946
+SHUFFLE	COMPRESS_BYTE_COUNT	1716940
+SHUFFLE	COPY_MAP_DATA	140501000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5484019
+SHUFFLE	COMPRESS_BYTE_COUNT	1704610
+SHUFFLE	COPY_MAP_DATA	88312000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5519959
+SHUFFLE	COMPRESS_BYTE_COUNT	1716452
+SHUFFLE	COPY_MAP_DATA	1108561000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5509628
+SHUFFLE	COMPRESS_BYTE_COUNT	1712237
+SHUFFLE	COPY_MAP_DATA	87079000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5537784
+SHUFFLE	COMPRESS_BYTE_COUNT	1721358
+SHUFFLE	COPY_MAP_DATA	142154000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5528920
+SHUFFLE	COMPRESS_BYTE_COUNT	1716833
+SHUFFLE	COPY_MAP_DATA	107841000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5471832
+SHUFFLE	COMPRESS_BYTE_COUNT	1700656
+SHUFFLE	COPY_MAP_DATA	96688000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5504236
+SHUFFLE	COMPRESS_BYTE_COUNT	1711114
+SHUFFLE	COPY_MAP_DATA	1516960000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5501881
+SHUFFLE	COMPRESS_BYTE_COUNT	1689282
+SHUFFLE	COPY_MAP_DATA	267418000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5444571
+SHUFFLE	COMPRESS_BYTE_COUNT	1691312
+SHUFFLE	COPY_MAP_DATA	128092000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5537833
+SHUFFLE	COMPRESS_BYTE_COUNT	1700425
+SHUFFLE	COPY_MAP_DATA	314354000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5551957
+SHUFFLE	COMPRESS_BYTE_COUNT	1725615
+SHUFFLE	COPY_MAP_DATA	88897000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5514134
+SHUFFLE	COMPRESS_BYTE_COUNT	1715036
+SHUFFLE	COPY_MAP_DATA	96093000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5466601
+SHUFFLE	COMPRESS_BYTE_COUNT	1700380
+SHUFFLE	COPY_MAP_DATA	335088000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5528487
+SHUFFLE	COMPRESS_BYTE_COUNT	1717763
+SHUFFLE	COPY_MAP_DATA	1699862000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5487498
+SHUFFLE	COMPRESS_BYTE_COUNT	1705963
+SHUFFLE	COPY_MAP_DATA	106359000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5501376
+SHUFFLE	COMPRESS_BYTE_COUNT	1709720
+SHUFFLE	COPY_MAP_DATA	100815000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5474895
+SHUFFLE	COMPRESS_BYTE_COUNT	1701319
+SHUFFLE	COPY_MAP_DATA	164877000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5495972
+SHUFFLE	COMPRESS_BYTE_COUNT	1708987
+SHUFFLE	COPY_MAP_DATA	488119000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5485700
+SHUFFLE	COMPRESS_BYTE_COUNT	1705096
+SHUFFLE	COPY_MAP_DATA	299578000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5506016
+SHUFFLE	COMPRESS_BYTE_COUNT	1710663
+SHUFFLE	COPY_MAP_DATA	128149000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5524867
+SHUFFLE	COMPRESS_BYTE_COUNT	1716937
+SHUFFLE	COPY_MAP_DATA	368224000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5513785
+SHUFFLE	COMPRESS_BYTE_COUNT	1714405
+SHUFFLE	COPY_MAP_DATA	87948000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5546516
+SHUFFLE	COMPRESS_BYTE_COUNT	1723386
+SHUFFLE	COPY_MAP_DATA	125301000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5569751
+SHUFFLE	COMPRESS_BYTE_COUNT	1735224
+SHUFFLE	COPY_MAP_DATA	140798000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5530627
+SHUFFLE	COMPRESS_BYTE_COUNT	1718516
+SHUFFLE	COPY_MAP_DATA	95356000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5554632
+SHUFFLE	COMPRESS_BYTE_COUNT	1729934
+SHUFFLE	COPY_MAP_DATA	424638000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5561545
+SHUFFLE	COMPRESS_BYTE_COUNT	1732148
+SHUFFLE	COPY_MAP_DATA	1222510000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5558068
+SHUFFLE	COMPRESS_BYTE_COUNT	1731218
+SHUFFLE	COPY_MAP_DATA	103639000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5597757
+SHUFFLE	COMPRESS_BYTE_COUNT	1727783
+SHUFFLE	COPY_MAP_DATA	209376000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5520951
+SHUFFLE	COMPRESS_BYTE_COUNT	1716187
+SHUFFLE	COPY_MAP_DATA	151375000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5548202
+SHUFFLE	COMPRESS_BYTE_COUNT	1729609
+SHUFFLE	COPY_MAP_DATA	115015000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5595867
+SHUFFLE	COMPRESS_BYTE_COUNT	1726607
+SHUFFLE	COPY_MAP_DATA	88835000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5562170
+SHUFFLE	COMPRESS_BYTE_COUNT	1732211
+SHUFFLE	COPY_MAP_DATA	89724000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5600869
+SHUFFLE	COMPRESS_BYTE_COUNT	1728718
+SHUFFLE	COPY_MAP_DATA	88855000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5547398
+SHUFFLE	COMPRESS_BYTE_COUNT	1728357
+SHUFFLE	COPY_MAP_DATA	894895000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5576475
+SHUFFLE	COMPRESS_BYTE_COUNT	1720964
+SHUFFLE	COPY_MAP_DATA	88402000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5475414
+SHUFFLE	COMPRESS_BYTE_COUNT	1703094
+SHUFFLE	COPY_MAP_DATA	96514000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5517848
+SHUFFLE	COMPRESS_BYTE_COUNT	1715253
+SHUFFLE	COPY_MAP_DATA	2781803000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5584519
+SHUFFLE	COMPRESS_BYTE_COUNT	1724384
+SHUFFLE	COPY_MAP_DATA	221774000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4725401
+SHUFFLE	COMPRESS_BYTE_COUNT	1449891
+SHUFFLE	COPY_MAP_DATA	127722000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5558324
+SHUFFLE	COMPRESS_BYTE_COUNT	1731688
+SHUFFLE	COPY_MAP_DATA	340496000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4455318
+SHUFFLE	COMPRESS_BYTE_COUNT	1384913
+SHUFFLE	COPY_MAP_DATA	72551000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4693492
+SHUFFLE	COMPRESS_BYTE_COUNT	1441240
+SHUFFLE	COPY_MAP_DATA	246607000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4736021
+SHUFFLE	COMPRESS_BYTE_COUNT	1454683
+SHUFFLE	COPY_MAP_DATA	85477000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4419005
+SHUFFLE	COMPRESS_BYTE_COUNT	1373327
+SHUFFLE	COPY_MAP_DATA	430037000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5598680
+SHUFFLE	COMPRESS_BYTE_COUNT	1727149
+SHUFFLE	COPY_MAP_DATA	1207747000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5606884
+SHUFFLE	COMPRESS_BYTE_COUNT	1730377
+SHUFFLE	COPY_MAP_DATA	950645000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5534287
+SHUFFLE	COMPRESS_BYTE_COUNT	1725303
+SHUFFLE	COPY_MAP_DATA	1401312000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5589853
+SHUFFLE	COMPRESS_BYTE_COUNT	1726484
+SHUFFLE	COPY_MAP_DATA	81302000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5517711
+SHUFFLE	COMPRESS_BYTE_COUNT	1735259
+SHUFFLE	COPY_MAP_DATA	158883000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5579940
+SHUFFLE	COMPRESS_BYTE_COUNT	1723690
+SHUFFLE	COPY_MAP_DATA	178665000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4446548
+SHUFFLE	COMPRESS_BYTE_COUNT	1383056
+SHUFFLE	COPY_MAP_DATA	73734000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5541397
+SHUFFLE	COMPRESS_BYTE_COUNT	1725736
+SHUFFLE	COPY_MAP_DATA	123020000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4423861
+SHUFFLE	COMPRESS_BYTE_COUNT	1375184
+SHUFFLE	COPY_MAP_DATA	70196000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5605732
+SHUFFLE	COMPRESS_BYTE_COUNT	1730406
+SHUFFLE	COPY_MAP_DATA	98729000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1737283
+SHUFFLE	COMPRESS_BYTE_COUNT	537095
+SHUFFLE	COPY_MAP_DATA	29918000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5587063
+SHUFFLE	COMPRESS_BYTE_COUNT	1725013
+SHUFFLE	COPY_MAP_DATA	154717000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5517042
+SHUFFLE	COMPRESS_BYTE_COUNT	1748796
+SHUFFLE	COPY_MAP_DATA	209953000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5559372
+SHUFFLE	COMPRESS_BYTE_COUNT	1730566
+SHUFFLE	COPY_MAP_DATA	85589000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5602081
+SHUFFLE	COMPRESS_BYTE_COUNT	1728926
+SHUFFLE	COPY_MAP_DATA	88785000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5590217
+SHUFFLE	COMPRESS_BYTE_COUNT	1725149
+SHUFFLE	COPY_MAP_DATA	87034000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1734079
+SHUFFLE	COMPRESS_BYTE_COUNT	536451
+SHUFFLE	COPY_MAP_DATA	102695000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4744252
+SHUFFLE	COMPRESS_BYTE_COUNT	1455523
+SHUFFLE	COPY_MAP_DATA	80205000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4453309
+SHUFFLE	COMPRESS_BYTE_COUNT	1383779
+SHUFFLE	COPY_MAP_DATA	79778000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5550865
+SHUFFLE	COMPRESS_BYTE_COUNT	1728914
+SHUFFLE	COPY_MAP_DATA	93047000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4710524
+SHUFFLE	COMPRESS_BYTE_COUNT	1445945
+SHUFFLE	COPY_MAP_DATA	2109412000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4440333
+SHUFFLE	COMPRESS_BYTE_COUNT	1381170
+SHUFFLE	COPY_MAP_DATA	74989000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4762513
+SHUFFLE	COMPRESS_BYTE_COUNT	1462022
+SHUFFLE	COPY_MAP_DATA	72910000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4486397
+SHUFFLE	COMPRESS_BYTE_COUNT	1394131
+SHUFFLE	COPY_MAP_DATA	81965000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1735873
+SHUFFLE	COMPRESS_BYTE_COUNT	537093
+SHUFFLE	COPY_MAP_DATA	1707919000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5553423
+SHUFFLE	COMPRESS_BYTE_COUNT	1731416
+SHUFFLE	COPY_MAP_DATA	449156000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1732973
+SHUFFLE	COMPRESS_BYTE_COUNT	535847
+SHUFFLE	COPY_MAP_DATA	58304000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1666632
+SHUFFLE	COMPRESS_BYTE_COUNT	520187
+SHUFFLE	COPY_MAP_DATA	278749000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4750223
+SHUFFLE	COMPRESS_BYTE_COUNT	1456967
+SHUFFLE	COPY_MAP_DATA	275552000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5555636
+SHUFFLE	COMPRESS_BYTE_COUNT	1730892
+SHUFFLE	COPY_MAP_DATA	8750616000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4374742
+SHUFFLE	COMPRESS_BYTE_COUNT	1361395
+SHUFFLE	COPY_MAP_DATA	69441000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4436064
+SHUFFLE	COMPRESS_BYTE_COUNT	1379033
+SHUFFLE	COPY_MAP_DATA	136457000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4724489
+SHUFFLE	COMPRESS_BYTE_COUNT	1451129
+SHUFFLE	COPY_MAP_DATA	547540000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1666591
+SHUFFLE	COMPRESS_BYTE_COUNT	519684
+SHUFFLE	COPY_MAP_DATA	249982000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1737052
+SHUFFLE	COMPRESS_BYTE_COUNT	537316
+SHUFFLE	COPY_MAP_DATA	29076000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1733494
+SHUFFLE	COMPRESS_BYTE_COUNT	536457
+SHUFFLE	COPY_MAP_DATA	28654000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1746192
+SHUFFLE	COMPRESS_BYTE_COUNT	540076
+SHUFFLE	COPY_MAP_DATA	29466000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1740267
+SHUFFLE	COMPRESS_BYTE_COUNT	538364
+SHUFFLE	COPY_MAP_DATA	174990000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5558151
+SHUFFLE	COMPRESS_BYTE_COUNT	1730969
+SHUFFLE	COPY_MAP_DATA	438672000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4760266
+SHUFFLE	COMPRESS_BYTE_COUNT	1461150
+SHUFFLE	COPY_MAP_DATA	160103000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4645386
+SHUFFLE	COMPRESS_BYTE_COUNT	1427585
+SHUFFLE	COPY_MAP_DATA	73856000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4173803
+SHUFFLE	COMPRESS_BYTE_COUNT	1314829
+SHUFFLE	COPY_MAP_DATA	800625000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4751357
+SHUFFLE	COMPRESS_BYTE_COUNT	1458718
+SHUFFLE	COPY_MAP_DATA	209027000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1744611
+SHUFFLE	COMPRESS_BYTE_COUNT	539909
+SHUFFLE	COPY_MAP_DATA	29260000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4426585
+SHUFFLE	COMPRESS_BYTE_COUNT	1375528
+SHUFFLE	COPY_MAP_DATA	228523000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4729679
+SHUFFLE	COMPRESS_BYTE_COUNT	1451996
+SHUFFLE	COPY_MAP_DATA	128910000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1733046
+SHUFFLE	COMPRESS_BYTE_COUNT	536077
+SHUFFLE	COPY_MAP_DATA	27685000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1668153
+SHUFFLE	COMPRESS_BYTE_COUNT	519519
+SHUFFLE	COPY_MAP_DATA	28215000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4448034
+SHUFFLE	COMPRESS_BYTE_COUNT	1382568
+SHUFFLE	COPY_MAP_DATA	91701000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1661474
+SHUFFLE	COMPRESS_BYTE_COUNT	518570
+SHUFFLE	COPY_MAP_DATA	27999000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4220836
+SHUFFLE	COMPRESS_BYTE_COUNT	1312599
+SHUFFLE	COPY_MAP_DATA	81548000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1671233
+SHUFFLE	COMPRESS_BYTE_COUNT	521404
+SHUFFLE	COPY_MAP_DATA	83120000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1660774
+SHUFFLE	COMPRESS_BYTE_COUNT	518100
+SHUFFLE	COPY_MAP_DATA	28458000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1667302
+SHUFFLE	COMPRESS_BYTE_COUNT	519768
+SHUFFLE	COPY_MAP_DATA	630318000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1731411
+SHUFFLE	COMPRESS_BYTE_COUNT	535096
+SHUFFLE	COPY_MAP_DATA	29595000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1667146
+SHUFFLE	COMPRESS_BYTE_COUNT	520607
+SHUFFLE	COPY_MAP_DATA	35792000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1746932
+SHUFFLE	COMPRESS_BYTE_COUNT	539938
+SHUFFLE	COPY_MAP_DATA	100010000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1661737
+SHUFFLE	COMPRESS_BYTE_COUNT	518760
+SHUFFLE	COPY_MAP_DATA	29890000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1669987
+SHUFFLE	COMPRESS_BYTE_COUNT	521425
+SHUFFLE	COPY_MAP_DATA	296576000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1628270
+SHUFFLE	COMPRESS_BYTE_COUNT	508197
+SHUFFLE	COPY_MAP_DATA	37683000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1738599
+SHUFFLE	COMPRESS_BYTE_COUNT	537488
+SHUFFLE	COPY_MAP_DATA	155167000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1702151
+SHUFFLE	COMPRESS_BYTE_COUNT	526363
+SHUFFLE	COPY_MAP_DATA	30140000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4416564
+SHUFFLE	COMPRESS_BYTE_COUNT	1372506
+SHUFFLE	COPY_MAP_DATA	387670000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1659293
+SHUFFLE	COMPRESS_BYTE_COUNT	517956
+SHUFFLE	COPY_MAP_DATA	39877000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1669633
+SHUFFLE	COMPRESS_BYTE_COUNT	520381
+SHUFFLE	COPY_MAP_DATA	290754000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1658557
+SHUFFLE	COMPRESS_BYTE_COUNT	517353
+SHUFFLE	COPY_MAP_DATA	47257000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4711066
+SHUFFLE	COMPRESS_BYTE_COUNT	1446138
+SHUFFLE	COPY_MAP_DATA	83587000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1661262
+SHUFFLE	COMPRESS_BYTE_COUNT	518537
+SHUFFLE	COPY_MAP_DATA	36815000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4481159
+SHUFFLE	COMPRESS_BYTE_COUNT	1392922
+SHUFFLE	COPY_MAP_DATA	87281000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1580805
+SHUFFLE	COMPRESS_BYTE_COUNT	499712
+SHUFFLE	COPY_MAP_DATA	28994000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4574794
+SHUFFLE	COMPRESS_BYTE_COUNT	1404017
+SHUFFLE	COPY_MAP_DATA	82420000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4503516
+SHUFFLE	COMPRESS_BYTE_COUNT	1399593
+SHUFFLE	COPY_MAP_DATA	98542000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	500417572894
+MERGE	READ_WRITE	495058346894
+MERGE	READ_WRITE_COUNT	8
+MERGE	COMBINE	0
+MERGE	WRITE	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	7032125000
+SORT	READ_WRITE	6803746000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	195050304
+REDUCE	SETUP	474000
+REDUCE	SETUP_MEM	195050304
+REDUCE	CLEANUP	41000
+REDUCE	CLEANUP_MEM	229911728
+REDUCE	TOTAL_RUN	616027684687
+REDUCE	READ	14429055000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	592264204687
+REDUCE	WRITE	380179648690
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	55878703
+REDUCE	VALUE_BYTE_COUNT	1647631061
+REDUCE	REDUCE_MEM	229911728
+REDUCE	WRITE	1108944000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	1319222902581
@@ -0,0 +1,989 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5484993
+SHUFFLE	COMPRESS_BYTE_COUNT	1705302
+SHUFFLE	COPY_MAP_DATA	355241000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5473560
+SHUFFLE	COMPRESS_BYTE_COUNT	1701034
+SHUFFLE	COPY_MAP_DATA	295877000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5506499
+SHUFFLE	COMPRESS_BYTE_COUNT	1711363
+SHUFFLE	COPY_MAP_DATA	135127000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5505731
+SHUFFLE	COMPRESS_BYTE_COUNT	1711555
+SHUFFLE	COPY_MAP_DATA	108479000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5523099
+SHUFFLE	COMPRESS_BYTE_COUNT	1716939
+SHUFFLE	COPY_MAP_DATA	141907000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5537162
+SHUFFLE	COMPRESS_BYTE_COUNT	1720714
+SHUFFLE	COPY_MAP_DATA	150649000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5519877
+SHUFFLE	COMPRESS_BYTE_COUNT	1714548
+SHUFFLE	COPY_MAP_DATA	204004000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5508749
+SHUFFLE	COMPRESS_BYTE_COUNT	1712656
+SHUFFLE	COPY_MAP_DATA	152504000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5519542
+SHUFFLE	COMPRESS_BYTE_COUNT	1714961
+SHUFFLE	COPY_MAP_DATA	516174000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5531743
+SHUFFLE	COMPRESS_BYTE_COUNT	1717242
+SHUFFLE	COPY_MAP_DATA	255438000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5466872
+SHUFFLE	COMPRESS_BYTE_COUNT	1700553
+SHUFFLE	COPY_MAP_DATA	145193000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5468368
+SHUFFLE	COMPRESS_BYTE_COUNT	1722902
+SHUFFLE	COPY_MAP_DATA	116549000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5467851
+SHUFFLE	COMPRESS_BYTE_COUNT	1720519
+SHUFFLE	COPY_MAP_DATA	167221000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5483964
+SHUFFLE	COMPRESS_BYTE_COUNT	1706493
+SHUFFLE	COPY_MAP_DATA	405430000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5510306
+SHUFFLE	COMPRESS_BYTE_COUNT	1712751
+SHUFFLE	COPY_MAP_DATA	93106000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5530113
+SHUFFLE	COMPRESS_BYTE_COUNT	1719129
+SHUFFLE	COPY_MAP_DATA	203585000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5522198
+SHUFFLE	COMPRESS_BYTE_COUNT	1716604
+SHUFFLE	COPY_MAP_DATA	569832000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5540462
+SHUFFLE	COMPRESS_BYTE_COUNT	1721540
+SHUFFLE	COPY_MAP_DATA	104308000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5537049
+SHUFFLE	COMPRESS_BYTE_COUNT	1721122
+SHUFFLE	COPY_MAP_DATA	309597000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5530350
+SHUFFLE	COMPRESS_BYTE_COUNT	1719339
+SHUFFLE	COPY_MAP_DATA	195239000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5504779
+SHUFFLE	COMPRESS_BYTE_COUNT	1711400
+SHUFFLE	COPY_MAP_DATA	366542000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5503577
+SHUFFLE	COMPRESS_BYTE_COUNT	1710490
+SHUFFLE	COPY_MAP_DATA	139702000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5528392
+SHUFFLE	COMPRESS_BYTE_COUNT	1740529
+SHUFFLE	COPY_MAP_DATA	427223000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5525235
+SHUFFLE	COMPRESS_BYTE_COUNT	1717241
+SHUFFLE	COPY_MAP_DATA	159972000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5511685
+SHUFFLE	COMPRESS_BYTE_COUNT	1712040
+SHUFFLE	COPY_MAP_DATA	347107000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5520925
+SHUFFLE	COMPRESS_BYTE_COUNT	1715479
+SHUFFLE	COPY_MAP_DATA	2271569000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5505707
+SHUFFLE	COMPRESS_BYTE_COUNT	1712283
+SHUFFLE	COPY_MAP_DATA	523248000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5509133
+SHUFFLE	COMPRESS_BYTE_COUNT	1691724
+SHUFFLE	COPY_MAP_DATA	653521000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5536176
+SHUFFLE	COMPRESS_BYTE_COUNT	1743838
+SHUFFLE	COPY_MAP_DATA	109031000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5410495
+SHUFFLE	COMPRESS_BYTE_COUNT	1731243
+SHUFFLE	COPY_MAP_DATA	428626000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5517116
+SHUFFLE	COMPRESS_BYTE_COUNT	1715012
+SHUFFLE	COPY_MAP_DATA	90731000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5640240
+SHUFFLE	COMPRESS_BYTE_COUNT	1731310
+SHUFFLE	COPY_MAP_DATA	202479000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5433781
+SHUFFLE	COMPRESS_BYTE_COUNT	1689312
+SHUFFLE	COPY_MAP_DATA	386498000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5630820
+SHUFFLE	COMPRESS_BYTE_COUNT	1728645
+SHUFFLE	COPY_MAP_DATA	91443000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5588708
+SHUFFLE	COMPRESS_BYTE_COUNT	1715900
+SHUFFLE	COPY_MAP_DATA	112345000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5512177
+SHUFFLE	COMPRESS_BYTE_COUNT	1693615
+SHUFFLE	COPY_MAP_DATA	86495000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5494462
+SHUFFLE	COMPRESS_BYTE_COUNT	1707954
+SHUFFLE	COPY_MAP_DATA	326981000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5542099
+SHUFFLE	COMPRESS_BYTE_COUNT	1721725
+SHUFFLE	COPY_MAP_DATA	667099000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5475174
+SHUFFLE	COMPRESS_BYTE_COUNT	1701204
+SHUFFLE	COPY_MAP_DATA	5719932000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5555828
+SHUFFLE	COMPRESS_BYTE_COUNT	1704712
+SHUFFLE	COPY_MAP_DATA	523297000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5538445
+SHUFFLE	COMPRESS_BYTE_COUNT	1698694
+SHUFFLE	COPY_MAP_DATA	375702000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5467141
+SHUFFLE	COMPRESS_BYTE_COUNT	1699629
+SHUFFLE	COPY_MAP_DATA	123002000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5536885
+SHUFFLE	COMPRESS_BYTE_COUNT	1720650
+SHUFFLE	COPY_MAP_DATA	343802000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5615156
+SHUFFLE	COMPRESS_BYTE_COUNT	1723329
+SHUFFLE	COPY_MAP_DATA	162704000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5423858
+SHUFFLE	COMPRESS_BYTE_COUNT	1707643
+SHUFFLE	COPY_MAP_DATA	88293000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5519340
+SHUFFLE	COMPRESS_BYTE_COUNT	1714311
+SHUFFLE	COPY_MAP_DATA	161784000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5533693
+SHUFFLE	COMPRESS_BYTE_COUNT	1720582
+SHUFFLE	COPY_MAP_DATA	1140703000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5525818
+SHUFFLE	COMPRESS_BYTE_COUNT	1718016
+SHUFFLE	COPY_MAP_DATA	89125000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5477376
+SHUFFLE	COMPRESS_BYTE_COUNT	1702110
+SHUFFLE	COPY_MAP_DATA	394854000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5489391
+SHUFFLE	COMPRESS_BYTE_COUNT	1705459
+SHUFFLE	COPY_MAP_DATA	1485475000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5505341
+SHUFFLE	COMPRESS_BYTE_COUNT	1712089
+SHUFFLE	COPY_MAP_DATA	1074786000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5554751
+SHUFFLE	COMPRESS_BYTE_COUNT	1704343
+SHUFFLE	COPY_MAP_DATA	625522000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5517419
+SHUFFLE	COMPRESS_BYTE_COUNT	1714889
+SHUFFLE	COPY_MAP_DATA	447027000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5544788
+SHUFFLE	COMPRESS_BYTE_COUNT	1719892
+SHUFFLE	COPY_MAP_DATA	4935863000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5525141
+SHUFFLE	COMPRESS_BYTE_COUNT	1694372
+SHUFFLE	COPY_MAP_DATA	264474000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5497179
+SHUFFLE	COMPRESS_BYTE_COUNT	1687645
+SHUFFLE	COPY_MAP_DATA	2273556000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5594566
+SHUFFLE	COMPRESS_BYTE_COUNT	1717131
+SHUFFLE	COPY_MAP_DATA	390536000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5518779
+SHUFFLE	COMPRESS_BYTE_COUNT	1717563
+SHUFFLE	COPY_MAP_DATA	453628000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5520556
+SHUFFLE	COMPRESS_BYTE_COUNT	1695010
+SHUFFLE	COPY_MAP_DATA	100505000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5523039
+SHUFFLE	COMPRESS_BYTE_COUNT	1695236
+SHUFFLE	COPY_MAP_DATA	370883000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5529058
+SHUFFLE	COMPRESS_BYTE_COUNT	1697301
+SHUFFLE	COPY_MAP_DATA	96223000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5597778
+SHUFFLE	COMPRESS_BYTE_COUNT	1718401
+SHUFFLE	COPY_MAP_DATA	143355000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5496495
+SHUFFLE	COMPRESS_BYTE_COUNT	1730970
+SHUFFLE	COPY_MAP_DATA	817812000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5573842
+SHUFFLE	COMPRESS_BYTE_COUNT	1711445
+SHUFFLE	COPY_MAP_DATA	255075000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5549105
+SHUFFLE	COMPRESS_BYTE_COUNT	1703293
+SHUFFLE	COPY_MAP_DATA	89057000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5437910
+SHUFFLE	COMPRESS_BYTE_COUNT	1712446
+SHUFFLE	COPY_MAP_DATA	147738000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5520262
+SHUFFLE	COMPRESS_BYTE_COUNT	1693947
+SHUFFLE	COPY_MAP_DATA	571991000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5551758
+SHUFFLE	COMPRESS_BYTE_COUNT	1704931
+SHUFFLE	COPY_MAP_DATA	251492000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5482409
+SHUFFLE	COMPRESS_BYTE_COUNT	1683961
+SHUFFLE	COPY_MAP_DATA	274928000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5566512
+SHUFFLE	COMPRESS_BYTE_COUNT	1708145
+SHUFFLE	COPY_MAP_DATA	107257000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5534417
+SHUFFLE	COMPRESS_BYTE_COUNT	1699323
+SHUFFLE	COPY_MAP_DATA	103096000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5560071
+SHUFFLE	COMPRESS_BYTE_COUNT	1706722
+SHUFFLE	COPY_MAP_DATA	125914000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5608089
+SHUFFLE	COMPRESS_BYTE_COUNT	1721142
+SHUFFLE	COPY_MAP_DATA	2440492000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5544253
+SHUFFLE	COMPRESS_BYTE_COUNT	1701769
+SHUFFLE	COPY_MAP_DATA	126963000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5518357
+SHUFFLE	COMPRESS_BYTE_COUNT	1695038
+SHUFFLE	COPY_MAP_DATA	93012000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5569041
+SHUFFLE	COMPRESS_BYTE_COUNT	1709650
+SHUFFLE	COPY_MAP_DATA	204100000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5495644
+SHUFFLE	COMPRESS_BYTE_COUNT	1727059
+SHUFFLE	COPY_MAP_DATA	3010784000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5525943
+SHUFFLE	COMPRESS_BYTE_COUNT	1695997
+SHUFFLE	COPY_MAP_DATA	363578000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5530925
+SHUFFLE	COMPRESS_BYTE_COUNT	1698623
+SHUFFLE	COPY_MAP_DATA	164272000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5539378
+SHUFFLE	COMPRESS_BYTE_COUNT	1700786
+SHUFFLE	COPY_MAP_DATA	1741378000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5558101
+SHUFFLE	COMPRESS_BYTE_COUNT	1707174
+SHUFFLE	COPY_MAP_DATA	94482000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5538281
+SHUFFLE	COMPRESS_BYTE_COUNT	1700282
+SHUFFLE	COPY_MAP_DATA	87672000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5568296
+SHUFFLE	COMPRESS_BYTE_COUNT	1709008
+SHUFFLE	COPY_MAP_DATA	7650598000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5550410
+SHUFFLE	COMPRESS_BYTE_COUNT	1703290
+SHUFFLE	COPY_MAP_DATA	113744000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5575877
+SHUFFLE	COMPRESS_BYTE_COUNT	1711860
+SHUFFLE	COPY_MAP_DATA	1254802000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5568519
+SHUFFLE	COMPRESS_BYTE_COUNT	1707589
+SHUFFLE	COPY_MAP_DATA	158155000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5545857
+SHUFFLE	COMPRESS_BYTE_COUNT	1701760
+SHUFFLE	COPY_MAP_DATA	212599000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5542995
+SHUFFLE	COMPRESS_BYTE_COUNT	1700413
+SHUFFLE	COPY_MAP_DATA	141298000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5573129
+SHUFFLE	COMPRESS_BYTE_COUNT	1710691
+SHUFFLE	COPY_MAP_DATA	250146000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5510596
+SHUFFLE	COMPRESS_BYTE_COUNT	1691352
+SHUFFLE	COPY_MAP_DATA	1099454000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5434966
+SHUFFLE	COMPRESS_BYTE_COUNT	1669367
+SHUFFLE	COPY_MAP_DATA	210279000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5588597
+SHUFFLE	COMPRESS_BYTE_COUNT	1716258
+SHUFFLE	COPY_MAP_DATA	678802000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5582132
+SHUFFLE	COMPRESS_BYTE_COUNT	1711821
+SHUFFLE	COPY_MAP_DATA	1152556000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5480005
+SHUFFLE	COMPRESS_BYTE_COUNT	1683310
+SHUFFLE	COPY_MAP_DATA	254440000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5561245
+SHUFFLE	COMPRESS_BYTE_COUNT	1707895
+SHUFFLE	COPY_MAP_DATA	92988000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5560339
+SHUFFLE	COMPRESS_BYTE_COUNT	1705892
+SHUFFLE	COPY_MAP_DATA	853838444
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5567734
+SHUFFLE	COMPRESS_BYTE_COUNT	1730171
+SHUFFLE	COPY_MAP_DATA	208447000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5542514
+SHUFFLE	COMPRESS_BYTE_COUNT	1699793
+SHUFFLE	COPY_MAP_DATA	125233000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5517963
+SHUFFLE	COMPRESS_BYTE_COUNT	1714911
+SHUFFLE	COPY_MAP_DATA	98211000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5431771
+SHUFFLE	COMPRESS_BYTE_COUNT	1687428
+SHUFFLE	COPY_MAP_DATA	236629000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5531767
+SHUFFLE	COMPRESS_BYTE_COUNT	1698445
+SHUFFLE	COPY_MAP_DATA	138355000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5574672
+SHUFFLE	COMPRESS_BYTE_COUNT	1710820
+SHUFFLE	COPY_MAP_DATA	109418000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5539240
+SHUFFLE	COMPRESS_BYTE_COUNT	1700322
+SHUFFLE	COPY_MAP_DATA	381395000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5570242
+SHUFFLE	COMPRESS_BYTE_COUNT	1709721
+SHUFFLE	COPY_MAP_DATA	697236000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5521102
+SHUFFLE	COMPRESS_BYTE_COUNT	1693936
+SHUFFLE	COPY_MAP_DATA	147176000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5540896
+SHUFFLE	COMPRESS_BYTE_COUNT	1700897
+SHUFFLE	COPY_MAP_DATA	206954000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5555251
+SHUFFLE	COMPRESS_BYTE_COUNT	1705051
+SHUFFLE	COPY_MAP_DATA	91014000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5498445
+SHUFFLE	COMPRESS_BYTE_COUNT	1708651
+SHUFFLE	COPY_MAP_DATA	1668092000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5583541
+SHUFFLE	COMPRESS_BYTE_COUNT	1713948
+SHUFFLE	COPY_MAP_DATA	266668000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5518988
+SHUFFLE	COMPRESS_BYTE_COUNT	1695008
+SHUFFLE	COPY_MAP_DATA	8020814000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5573090
+SHUFFLE	COMPRESS_BYTE_COUNT	1709536
+SHUFFLE	COPY_MAP_DATA	2501797000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5570298
+SHUFFLE	COMPRESS_BYTE_COUNT	1709540
+SHUFFLE	COPY_MAP_DATA	3375947000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5520018
+SHUFFLE	COMPRESS_BYTE_COUNT	1693602
+SHUFFLE	COPY_MAP_DATA	1980494000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5592333
+SHUFFLE	COMPRESS_BYTE_COUNT	1715798
+SHUFFLE	COPY_MAP_DATA	91598000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5584520
+SHUFFLE	COMPRESS_BYTE_COUNT	1713996
+SHUFFLE	COPY_MAP_DATA	688578000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5511199
+SHUFFLE	COMPRESS_BYTE_COUNT	1692786
+SHUFFLE	COPY_MAP_DATA	156311000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5536383
+SHUFFLE	COMPRESS_BYTE_COUNT	1721802
+SHUFFLE	COPY_MAP_DATA	1053025000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5461506
+SHUFFLE	COMPRESS_BYTE_COUNT	1698371
+SHUFFLE	COPY_MAP_DATA	739934000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5485275
+SHUFFLE	COMPRESS_BYTE_COUNT	1704973
+SHUFFLE	COPY_MAP_DATA	156491000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5486285
+SHUFFLE	COMPRESS_BYTE_COUNT	1704944
+SHUFFLE	COPY_MAP_DATA	326664000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5447843
+SHUFFLE	COMPRESS_BYTE_COUNT	1692359
+SHUFFLE	COPY_MAP_DATA	242557000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5495835
+SHUFFLE	COMPRESS_BYTE_COUNT	1708469
+SHUFFLE	COPY_MAP_DATA	153214000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5541148
+SHUFFLE	COMPRESS_BYTE_COUNT	1700680
+SHUFFLE	COPY_MAP_DATA	455618000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5485558
+SHUFFLE	COMPRESS_BYTE_COUNT	1704863
+SHUFFLE	COPY_MAP_DATA	84786000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5469154
+SHUFFLE	COMPRESS_BYTE_COUNT	1700775
+SHUFFLE	COPY_MAP_DATA	101120000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5541829
+SHUFFLE	COMPRESS_BYTE_COUNT	1722741
+SHUFFLE	COPY_MAP_DATA	695636000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5530278
+SHUFFLE	COMPRESS_BYTE_COUNT	1718766
+SHUFFLE	COPY_MAP_DATA	550699000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5540451
+SHUFFLE	COMPRESS_BYTE_COUNT	1721769
+SHUFFLE	COPY_MAP_DATA	642749000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5422330
+SHUFFLE	COMPRESS_BYTE_COUNT	1685862
+SHUFFLE	COPY_MAP_DATA	225335000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5514600
+SHUFFLE	COMPRESS_BYTE_COUNT	1714294
+SHUFFLE	COPY_MAP_DATA	197350000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5552921
+SHUFFLE	COMPRESS_BYTE_COUNT	1704324
+SHUFFLE	COPY_MAP_DATA	158046000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5524543
+SHUFFLE	COMPRESS_BYTE_COUNT	1717389
+SHUFFLE	COPY_MAP_DATA	97654000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5541985
+SHUFFLE	COMPRESS_BYTE_COUNT	1701159
+SHUFFLE	COPY_MAP_DATA	146775000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5515398
+SHUFFLE	COMPRESS_BYTE_COUNT	1714394
+SHUFFLE	COPY_MAP_DATA	293942000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5554396
+SHUFFLE	COMPRESS_BYTE_COUNT	1725686
+SHUFFLE	COPY_MAP_DATA	154389000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5483522
+SHUFFLE	COMPRESS_BYTE_COUNT	1703927
+SHUFFLE	COPY_MAP_DATA	214926000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5490490
+SHUFFLE	COMPRESS_BYTE_COUNT	1706529
+SHUFFLE	COPY_MAP_DATA	135082000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5511887
+SHUFFLE	COMPRESS_BYTE_COUNT	1712922
+SHUFFLE	COPY_MAP_DATA	99640000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5545770
+SHUFFLE	COMPRESS_BYTE_COUNT	1723922
+SHUFFLE	COPY_MAP_DATA	326382000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5473883
+SHUFFLE	COMPRESS_BYTE_COUNT	1701866
+SHUFFLE	COPY_MAP_DATA	144880000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5532067
+SHUFFLE	COMPRESS_BYTE_COUNT	1718463
+SHUFFLE	COPY_MAP_DATA	90716000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5490124
+SHUFFLE	COMPRESS_BYTE_COUNT	1706342
+SHUFFLE	COPY_MAP_DATA	104274000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5565414
+SHUFFLE	COMPRESS_BYTE_COUNT	1729742
+SHUFFLE	COPY_MAP_DATA	182202000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5532903
+SHUFFLE	COMPRESS_BYTE_COUNT	1718991
+SHUFFLE	COPY_MAP_DATA	94399000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5520633
+SHUFFLE	COMPRESS_BYTE_COUNT	1715764
+SHUFFLE	COPY_MAP_DATA	87259000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5494320
+SHUFFLE	COMPRESS_BYTE_COUNT	1708375
+SHUFFLE	COPY_MAP_DATA	87859000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5555225
+SHUFFLE	COMPRESS_BYTE_COUNT	1725610
+SHUFFLE	COPY_MAP_DATA	232336000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5561613
+SHUFFLE	COMPRESS_BYTE_COUNT	1732099
+SHUFFLE	COPY_MAP_DATA	172274000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5539564
+SHUFFLE	COMPRESS_BYTE_COUNT	1726734
+SHUFFLE	COPY_MAP_DATA	93021000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5567458
+SHUFFLE	COMPRESS_BYTE_COUNT	1732322
+SHUFFLE	COPY_MAP_DATA	256192000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5554915
+SHUFFLE	COMPRESS_BYTE_COUNT	1730534
+SHUFFLE	COPY_MAP_DATA	93971000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5553213
+SHUFFLE	COMPRESS_BYTE_COUNT	1729926
+SHUFFLE	COPY_MAP_DATA	152475000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5591527
+SHUFFLE	COMPRESS_BYTE_COUNT	1726776
+SHUFFLE	COPY_MAP_DATA	98643000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5515996
+SHUFFLE	COMPRESS_BYTE_COUNT	1713870
+SHUFFLE	COPY_MAP_DATA	105793000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5560873
+SHUFFLE	COMPRESS_BYTE_COUNT	1732021
+SHUFFLE	COPY_MAP_DATA	494394000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5598797
+SHUFFLE	COMPRESS_BYTE_COUNT	1728216
+SHUFFLE	COPY_MAP_DATA	321610000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5595954
+SHUFFLE	COMPRESS_BYTE_COUNT	1726806
+SHUFFLE	COPY_MAP_DATA	108856000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5544821
+SHUFFLE	COMPRESS_BYTE_COUNT	1727302
+SHUFFLE	COPY_MAP_DATA	1116079000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5577567
+SHUFFLE	COMPRESS_BYTE_COUNT	1721667
+SHUFFLE	COPY_MAP_DATA	147011000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5482766
+SHUFFLE	COMPRESS_BYTE_COUNT	1704483
+SHUFFLE	COPY_MAP_DATA	97921000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5547602
+SHUFFLE	COMPRESS_BYTE_COUNT	1723961
+SHUFFLE	COPY_MAP_DATA	89098000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4706548
+SHUFFLE	COMPRESS_BYTE_COUNT	1444344
+SHUFFLE	COPY_MAP_DATA	375733000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5590404
+SHUFFLE	COMPRESS_BYTE_COUNT	1726127
+SHUFFLE	COPY_MAP_DATA	97349000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5563560
+SHUFFLE	COMPRESS_BYTE_COUNT	1732891
+SHUFFLE	COPY_MAP_DATA	87562000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4678786
+SHUFFLE	COMPRESS_BYTE_COUNT	1437194
+SHUFFLE	COPY_MAP_DATA	70961000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4459380
+SHUFFLE	COMPRESS_BYTE_COUNT	1386611
+SHUFFLE	COPY_MAP_DATA	70070000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4779391
+SHUFFLE	COMPRESS_BYTE_COUNT	1467207
+SHUFFLE	COPY_MAP_DATA	406956000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5601866
+SHUFFLE	COMPRESS_BYTE_COUNT	1729219
+SHUFFLE	COPY_MAP_DATA	132222000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4511181
+SHUFFLE	COMPRESS_BYTE_COUNT	1401538
+SHUFFLE	COPY_MAP_DATA	3930368000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5602464
+SHUFFLE	COMPRESS_BYTE_COUNT	1729569
+SHUFFLE	COPY_MAP_DATA	302098000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5516785
+SHUFFLE	COMPRESS_BYTE_COUNT	1735987
+SHUFFLE	COPY_MAP_DATA	212457000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5592676
+SHUFFLE	COMPRESS_BYTE_COUNT	1726534
+SHUFFLE	COPY_MAP_DATA	134146000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5543587
+SHUFFLE	COMPRESS_BYTE_COUNT	1726593
+SHUFFLE	COPY_MAP_DATA	164426000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5589296
+SHUFFLE	COMPRESS_BYTE_COUNT	1724680
+SHUFFLE	COPY_MAP_DATA	646681000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5546783
+SHUFFLE	COMPRESS_BYTE_COUNT	1727173
+SHUFFLE	COPY_MAP_DATA	110850000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4487540
+SHUFFLE	COMPRESS_BYTE_COUNT	1394649
+SHUFFLE	COPY_MAP_DATA	73001000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5519411
+SHUFFLE	COMPRESS_BYTE_COUNT	1750110
+SHUFFLE	COPY_MAP_DATA	109121000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4502885
+SHUFFLE	COMPRESS_BYTE_COUNT	1399161
+SHUFFLE	COPY_MAP_DATA	131255000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5605855
+SHUFFLE	COMPRESS_BYTE_COUNT	1729842
+SHUFFLE	COPY_MAP_DATA	104569000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5601987
+SHUFFLE	COMPRESS_BYTE_COUNT	1729685
+SHUFFLE	COPY_MAP_DATA	175267000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5563524
+SHUFFLE	COMPRESS_BYTE_COUNT	1732631
+SHUFFLE	COPY_MAP_DATA	91280000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5581304
+SHUFFLE	COMPRESS_BYTE_COUNT	1723847
+SHUFFLE	COPY_MAP_DATA	97003000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1737345
+SHUFFLE	COMPRESS_BYTE_COUNT	537235
+SHUFFLE	COPY_MAP_DATA	165893000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5597109
+SHUFFLE	COMPRESS_BYTE_COUNT	1727620
+SHUFFLE	COPY_MAP_DATA	113541000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1738657
+SHUFFLE	COMPRESS_BYTE_COUNT	537243
+SHUFFLE	COPY_MAP_DATA	31920000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4735142
+SHUFFLE	COMPRESS_BYTE_COUNT	1454231
+SHUFFLE	COPY_MAP_DATA	83036000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5548309
+SHUFFLE	COMPRESS_BYTE_COUNT	1727912
+SHUFFLE	COPY_MAP_DATA	91938000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4694999
+SHUFFLE	COMPRESS_BYTE_COUNT	1441083
+SHUFFLE	COPY_MAP_DATA	265434000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4776266
+SHUFFLE	COMPRESS_BYTE_COUNT	1466722
+SHUFFLE	COPY_MAP_DATA	168093000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4413729
+SHUFFLE	COMPRESS_BYTE_COUNT	1372168
+SHUFFLE	COPY_MAP_DATA	72479000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4408713
+SHUFFLE	COMPRESS_BYTE_COUNT	1371577
+SHUFFLE	COPY_MAP_DATA	73419000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4422602
+SHUFFLE	COMPRESS_BYTE_COUNT	1374231
+SHUFFLE	COPY_MAP_DATA	358951000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5553118
+SHUFFLE	COMPRESS_BYTE_COUNT	1730288
+SHUFFLE	COPY_MAP_DATA	91483000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1734600
+SHUFFLE	COMPRESS_BYTE_COUNT	536804
+SHUFFLE	COPY_MAP_DATA	2788043000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1664602
+SHUFFLE	COMPRESS_BYTE_COUNT	519629
+SHUFFLE	COPY_MAP_DATA	117990000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1735254
+SHUFFLE	COMPRESS_BYTE_COUNT	536597
+SHUFFLE	COPY_MAP_DATA	30527000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4746412
+SHUFFLE	COMPRESS_BYTE_COUNT	1457026
+SHUFFLE	COPY_MAP_DATA	185797000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4454662
+SHUFFLE	COMPRESS_BYTE_COUNT	1385722
+SHUFFLE	COPY_MAP_DATA	71696000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5560218
+SHUFFLE	COMPRESS_BYTE_COUNT	1731211
+SHUFFLE	COPY_MAP_DATA	131246000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4483488
+SHUFFLE	COMPRESS_BYTE_COUNT	1391808
+SHUFFLE	COPY_MAP_DATA	177601000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1665914
+SHUFFLE	COMPRESS_BYTE_COUNT	519973
+SHUFFLE	COPY_MAP_DATA	29436000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4716500
+SHUFFLE	COMPRESS_BYTE_COUNT	1448809
+SHUFFLE	COPY_MAP_DATA	85017000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1737376
+SHUFFLE	COMPRESS_BYTE_COUNT	536935
+SHUFFLE	COPY_MAP_DATA	54860000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1742440
+SHUFFLE	COMPRESS_BYTE_COUNT	537997
+SHUFFLE	COPY_MAP_DATA	241368000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5551847
+SHUFFLE	COMPRESS_BYTE_COUNT	1729462
+SHUFFLE	COPY_MAP_DATA	104646000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1739991
+SHUFFLE	COMPRESS_BYTE_COUNT	538656
+SHUFFLE	COPY_MAP_DATA	33604000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1740790
+SHUFFLE	COMPRESS_BYTE_COUNT	538797
+SHUFFLE	COPY_MAP_DATA	56354000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4777479
+SHUFFLE	COMPRESS_BYTE_COUNT	1466289
+SHUFFLE	COPY_MAP_DATA	109563000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4743923
+SHUFFLE	COMPRESS_BYTE_COUNT	1456051
+SHUFFLE	COPY_MAP_DATA	123900000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4742069
+SHUFFLE	COMPRESS_BYTE_COUNT	1455743
+SHUFFLE	COPY_MAP_DATA	542966000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1743220
+SHUFFLE	COMPRESS_BYTE_COUNT	539730
+SHUFFLE	COPY_MAP_DATA	52547000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4520107
+SHUFFLE	COMPRESS_BYTE_COUNT	1405105
+SHUFFLE	COPY_MAP_DATA	373649000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4075213
+SHUFFLE	COMPRESS_BYTE_COUNT	1283343
+SHUFFLE	COPY_MAP_DATA	95381000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4721673
+SHUFFLE	COMPRESS_BYTE_COUNT	1449777
+SHUFFLE	COPY_MAP_DATA	166779000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1731563
+SHUFFLE	COMPRESS_BYTE_COUNT	535630
+SHUFFLE	COPY_MAP_DATA	92930000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1665355
+SHUFFLE	COMPRESS_BYTE_COUNT	519596
+SHUFFLE	COPY_MAP_DATA	207570000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4469160
+SHUFFLE	COMPRESS_BYTE_COUNT	1388697
+SHUFFLE	COPY_MAP_DATA	225658000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1668617
+SHUFFLE	COMPRESS_BYTE_COUNT	520016
+SHUFFLE	COPY_MAP_DATA	31541000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1727456
+SHUFFLE	COMPRESS_BYTE_COUNT	534580
+SHUFFLE	COPY_MAP_DATA	385359000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1670089
+SHUFFLE	COMPRESS_BYTE_COUNT	521163
+SHUFFLE	COPY_MAP_DATA	27436000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1744757
+SHUFFLE	COMPRESS_BYTE_COUNT	539401
+SHUFFLE	COPY_MAP_DATA	35213000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1661379
+SHUFFLE	COMPRESS_BYTE_COUNT	518576
+SHUFFLE	COPY_MAP_DATA	235060000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1739245
+SHUFFLE	COMPRESS_BYTE_COUNT	537704
+SHUFFLE	COPY_MAP_DATA	145033000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1672571
+SHUFFLE	COMPRESS_BYTE_COUNT	521357
+SHUFFLE	COPY_MAP_DATA	32746000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4254112
+SHUFFLE	COMPRESS_BYTE_COUNT	1322659
+SHUFFLE	COPY_MAP_DATA	78365000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1661901
+SHUFFLE	COMPRESS_BYTE_COUNT	519017
+SHUFFLE	COPY_MAP_DATA	214413000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1661488
+SHUFFLE	COMPRESS_BYTE_COUNT	518873
+SHUFFLE	COPY_MAP_DATA	31512000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4413835
+SHUFFLE	COMPRESS_BYTE_COUNT	1372177
+SHUFFLE	COPY_MAP_DATA	184998000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1627700
+SHUFFLE	COMPRESS_BYTE_COUNT	508345
+SHUFFLE	COPY_MAP_DATA	31026000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1673324
+SHUFFLE	COMPRESS_BYTE_COUNT	522219
+SHUFFLE	COPY_MAP_DATA	130132000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1703032
+SHUFFLE	COMPRESS_BYTE_COUNT	526320
+SHUFFLE	COPY_MAP_DATA	30219000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1659790
+SHUFFLE	COMPRESS_BYTE_COUNT	517891
+SHUFFLE	COPY_MAP_DATA	35120000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4745313
+SHUFFLE	COMPRESS_BYTE_COUNT	1455989
+SHUFFLE	COPY_MAP_DATA	599828000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1665039
+SHUFFLE	COMPRESS_BYTE_COUNT	520124
+SHUFFLE	COPY_MAP_DATA	47806000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1662843
+SHUFFLE	COMPRESS_BYTE_COUNT	519295
+SHUFFLE	COPY_MAP_DATA	25093000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1656749
+SHUFFLE	COMPRESS_BYTE_COUNT	516925
+SHUFFLE	COPY_MAP_DATA	66787000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4502248
+SHUFFLE	COMPRESS_BYTE_COUNT	1398893
+SHUFFLE	COPY_MAP_DATA	161515000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1581571
+SHUFFLE	COMPRESS_BYTE_COUNT	498975
+SHUFFLE	COPY_MAP_DATA	66751000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4580752
+SHUFFLE	COMPRESS_BYTE_COUNT	1406287
+SHUFFLE	COPY_MAP_DATA	81397000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4495016
+SHUFFLE	COMPRESS_BYTE_COUNT	1397209
+SHUFFLE	COPY_MAP_DATA	90809000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	497581214190
+MERGE	READ_WRITE	492433333190
+MERGE	READ_WRITE_COUNT	8
+MERGE	COMBINE	0
+MERGE	WRITE	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	10161906000
+SORT	READ_WRITE	9974814000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	202870240
+REDUCE	SETUP	414000
+REDUCE	SETUP_MEM	202870240
+REDUCE	CLEANUP	44000
+REDUCE	CLEANUP_MEM	73874088
+REDUCE	TOTAL_RUN	992093778963
+REDUCE	READ	119687505292
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	859826725671
+REDUCE	WRITE	299040304188
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	55878294
+REDUCE	VALUE_BYTE_COUNT	1647689011
+REDUCE	REDUCE_MEM	73876136
+REDUCE	WRITE	881047000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	1701261302740
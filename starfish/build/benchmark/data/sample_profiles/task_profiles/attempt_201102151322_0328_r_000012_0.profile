@@ -0,0 +1,989 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5488167
+SHUFFLE	COMPRESS_BYTE_COUNT	1705547
+SHUFFLE	COPY_MAP_DATA	148628000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5467484
+SHUFFLE	COMPRESS_BYTE_COUNT	1699606
+SHUFFLE	COPY_MAP_DATA	320407000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5542612
+SHUFFLE	COMPRESS_BYTE_COUNT	1722532
+SHUFFLE	COPY_MAP_DATA	1147435000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5527928
+SHUFFLE	COMPRESS_BYTE_COUNT	1718944
+SHUFFLE	COPY_MAP_DATA	311486000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5462668
+SHUFFLE	COMPRESS_BYTE_COUNT	1720644
+SHUFFLE	COPY_MAP_DATA	164083000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5539117
+SHUFFLE	COMPRESS_BYTE_COUNT	1721518
+SHUFFLE	COPY_MAP_DATA	138279000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5543057
+SHUFFLE	COMPRESS_BYTE_COUNT	1724370
+SHUFFLE	COPY_MAP_DATA	122749000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5506017
+SHUFFLE	COMPRESS_BYTE_COUNT	1711304
+SHUFFLE	COPY_MAP_DATA	293341000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5497913
+SHUFFLE	COMPRESS_BYTE_COUNT	1709079
+SHUFFLE	COPY_MAP_DATA	341238000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5549448
+SHUFFLE	COMPRESS_BYTE_COUNT	1724931
+SHUFFLE	COPY_MAP_DATA	103464000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5502322
+SHUFFLE	COMPRESS_BYTE_COUNT	1731492
+SHUFFLE	COPY_MAP_DATA	106597000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5487120
+SHUFFLE	COMPRESS_BYTE_COUNT	1706508
+SHUFFLE	COPY_MAP_DATA	110641000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5536216
+SHUFFLE	COMPRESS_BYTE_COUNT	1720460
+SHUFFLE	COPY_MAP_DATA	1259149000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5550868
+SHUFFLE	COMPRESS_BYTE_COUNT	1725763
+SHUFFLE	COPY_MAP_DATA	133132000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5546509
+SHUFFLE	COMPRESS_BYTE_COUNT	1723978
+SHUFFLE	COPY_MAP_DATA	255584000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5452175
+SHUFFLE	COMPRESS_BYTE_COUNT	1695676
+SHUFFLE	COPY_MAP_DATA	105325000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5554275
+SHUFFLE	COMPRESS_BYTE_COUNT	1726548
+SHUFFLE	COPY_MAP_DATA	101584000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5474724
+SHUFFLE	COMPRESS_BYTE_COUNT	1724089
+SHUFFLE	COPY_MAP_DATA	111159000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5453513
+SHUFFLE	COMPRESS_BYTE_COUNT	1694179
+SHUFFLE	COPY_MAP_DATA	242560000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5505790
+SHUFFLE	COMPRESS_BYTE_COUNT	1711786
+SHUFFLE	COPY_MAP_DATA	98759000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5503558
+SHUFFLE	COMPRESS_BYTE_COUNT	1711294
+SHUFFLE	COPY_MAP_DATA	285278000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5562349
+SHUFFLE	COMPRESS_BYTE_COUNT	1729360
+SHUFFLE	COPY_MAP_DATA	199803000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5557037
+SHUFFLE	COMPRESS_BYTE_COUNT	1728595
+SHUFFLE	COPY_MAP_DATA	131369000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5501207
+SHUFFLE	COMPRESS_BYTE_COUNT	1710221
+SHUFFLE	COPY_MAP_DATA	223895000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5516219
+SHUFFLE	COMPRESS_BYTE_COUNT	1714899
+SHUFFLE	COPY_MAP_DATA	156710000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5474816
+SHUFFLE	COMPRESS_BYTE_COUNT	1724919
+SHUFFLE	COPY_MAP_DATA	348301000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5527254
+SHUFFLE	COMPRESS_BYTE_COUNT	1696134
+SHUFFLE	COPY_MAP_DATA	87485000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5553293
+SHUFFLE	COMPRESS_BYTE_COUNT	1727362
+SHUFFLE	COPY_MAP_DATA	448342000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5532865
+SHUFFLE	COMPRESS_BYTE_COUNT	1719492
+SHUFFLE	COPY_MAP_DATA	271519000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5411973
+SHUFFLE	COMPRESS_BYTE_COUNT	1731510
+SHUFFLE	COPY_MAP_DATA	390251000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5556029
+SHUFFLE	COMPRESS_BYTE_COUNT	1705406
+SHUFFLE	COPY_MAP_DATA	186619000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5530348
+SHUFFLE	COMPRESS_BYTE_COUNT	1718436
+SHUFFLE	COPY_MAP_DATA	236423000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5516415
+SHUFFLE	COMPRESS_BYTE_COUNT	1713254
+SHUFFLE	COPY_MAP_DATA	145707000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5580691
+SHUFFLE	COMPRESS_BYTE_COUNT	1713540
+SHUFFLE	COPY_MAP_DATA	99263000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5513067
+SHUFFLE	COMPRESS_BYTE_COUNT	1692456
+SHUFFLE	COPY_MAP_DATA	110788000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5490463
+SHUFFLE	COMPRESS_BYTE_COUNT	1686387
+SHUFFLE	COPY_MAP_DATA	153995000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5529971
+SHUFFLE	COMPRESS_BYTE_COUNT	1718196
+SHUFFLE	COPY_MAP_DATA	218518000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5497048
+SHUFFLE	COMPRESS_BYTE_COUNT	1687786
+SHUFFLE	COPY_MAP_DATA	116389000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5487908
+SHUFFLE	COMPRESS_BYTE_COUNT	1704967
+SHUFFLE	COPY_MAP_DATA	91097000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5512915
+SHUFFLE	COMPRESS_BYTE_COUNT	1714144
+SHUFFLE	COPY_MAP_DATA	377914000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5547041
+SHUFFLE	COMPRESS_BYTE_COUNT	1723892
+SHUFFLE	COPY_MAP_DATA	2881098000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5565051
+SHUFFLE	COMPRESS_BYTE_COUNT	1708187
+SHUFFLE	COPY_MAP_DATA	332405000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5538909
+SHUFFLE	COMPRESS_BYTE_COUNT	1720107
+SHUFFLE	COPY_MAP_DATA	500745000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5514275
+SHUFFLE	COMPRESS_BYTE_COUNT	1713077
+SHUFFLE	COPY_MAP_DATA	155736000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5498918
+SHUFFLE	COMPRESS_BYTE_COUNT	1708717
+SHUFFLE	COPY_MAP_DATA	170000000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5485217
+SHUFFLE	COMPRESS_BYTE_COUNT	1727374
+SHUFFLE	COPY_MAP_DATA	169330000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5458645
+SHUFFLE	COMPRESS_BYTE_COUNT	1697106
+SHUFFLE	COPY_MAP_DATA	830766000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5527447
+SHUFFLE	COMPRESS_BYTE_COUNT	1717893
+SHUFFLE	COPY_MAP_DATA	567876000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5525617
+SHUFFLE	COMPRESS_BYTE_COUNT	1718012
+SHUFFLE	COPY_MAP_DATA	439498000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5544093
+SHUFFLE	COMPRESS_BYTE_COUNT	1722954
+SHUFFLE	COPY_MAP_DATA	1556167000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5512557
+SHUFFLE	COMPRESS_BYTE_COUNT	1712956
+SHUFFLE	COPY_MAP_DATA	89906000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5550203
+SHUFFLE	COMPRESS_BYTE_COUNT	1703561
+SHUFFLE	COPY_MAP_DATA	804501000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5554769
+SHUFFLE	COMPRESS_BYTE_COUNT	1705216
+SHUFFLE	COPY_MAP_DATA	106865000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5555244
+SHUFFLE	COMPRESS_BYTE_COUNT	1706588
+SHUFFLE	COPY_MAP_DATA	152770000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5501180
+SHUFFLE	COMPRESS_BYTE_COUNT	1707468
+SHUFFLE	COPY_MAP_DATA	5839341000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5523930
+SHUFFLE	COMPRESS_BYTE_COUNT	1695649
+SHUFFLE	COPY_MAP_DATA	88490000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5575923
+SHUFFLE	COMPRESS_BYTE_COUNT	1711720
+SHUFFLE	COPY_MAP_DATA	90340000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5527913
+SHUFFLE	COMPRESS_BYTE_COUNT	1718056
+SHUFFLE	COPY_MAP_DATA	551544000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5535230
+SHUFFLE	COMPRESS_BYTE_COUNT	1700555
+SHUFFLE	COPY_MAP_DATA	170828000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5548222
+SHUFFLE	COMPRESS_BYTE_COUNT	1703720
+SHUFFLE	COPY_MAP_DATA	112642000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5541390
+SHUFFLE	COMPRESS_BYTE_COUNT	1701237
+SHUFFLE	COPY_MAP_DATA	138978000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5594847
+SHUFFLE	COMPRESS_BYTE_COUNT	1716441
+SHUFFLE	COPY_MAP_DATA	182814000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5493376
+SHUFFLE	COMPRESS_BYTE_COUNT	1728994
+SHUFFLE	COPY_MAP_DATA	94845000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5577773
+SHUFFLE	COMPRESS_BYTE_COUNT	1712576
+SHUFFLE	COPY_MAP_DATA	90190000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5518842
+SHUFFLE	COMPRESS_BYTE_COUNT	1693840
+SHUFFLE	COPY_MAP_DATA	92046000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5459117
+SHUFFLE	COMPRESS_BYTE_COUNT	1720048
+SHUFFLE	COPY_MAP_DATA	116606000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5570813
+SHUFFLE	COMPRESS_BYTE_COUNT	1709343
+SHUFFLE	COPY_MAP_DATA	377709000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5480125
+SHUFFLE	COMPRESS_BYTE_COUNT	1682292
+SHUFFLE	COPY_MAP_DATA	159360000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5536112
+SHUFFLE	COMPRESS_BYTE_COUNT	1699782
+SHUFFLE	COPY_MAP_DATA	89797000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5572201
+SHUFFLE	COMPRESS_BYTE_COUNT	1710097
+SHUFFLE	COPY_MAP_DATA	97489000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5579904
+SHUFFLE	COMPRESS_BYTE_COUNT	1712779
+SHUFFLE	COPY_MAP_DATA	243155000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5499750
+SHUFFLE	COMPRESS_BYTE_COUNT	1688580
+SHUFFLE	COPY_MAP_DATA	84838000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5573412
+SHUFFLE	COMPRESS_BYTE_COUNT	1711289
+SHUFFLE	COPY_MAP_DATA	598798000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5591163
+SHUFFLE	COMPRESS_BYTE_COUNT	1715074
+SHUFFLE	COPY_MAP_DATA	656576000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5527390
+SHUFFLE	COMPRESS_BYTE_COUNT	1696748
+SHUFFLE	COPY_MAP_DATA	84735000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5614105
+SHUFFLE	COMPRESS_BYTE_COUNT	1722491
+SHUFFLE	COPY_MAP_DATA	245377000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5614832
+SHUFFLE	COMPRESS_BYTE_COUNT	1722597
+SHUFFLE	COPY_MAP_DATA	87576000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5495148
+SHUFFLE	COMPRESS_BYTE_COUNT	1726127
+SHUFFLE	COPY_MAP_DATA	1958406000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5558301
+SHUFFLE	COMPRESS_BYTE_COUNT	1707123
+SHUFFLE	COPY_MAP_DATA	134182000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5542108
+SHUFFLE	COMPRESS_BYTE_COUNT	1701716
+SHUFFLE	COPY_MAP_DATA	166960000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5543020
+SHUFFLE	COMPRESS_BYTE_COUNT	1700535
+SHUFFLE	COPY_MAP_DATA	114302000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5565374
+SHUFFLE	COMPRESS_BYTE_COUNT	1708742
+SHUFFLE	COPY_MAP_DATA	229522000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5554043
+SHUFFLE	COMPRESS_BYTE_COUNT	1704665
+SHUFFLE	COPY_MAP_DATA	1660325000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5616137
+SHUFFLE	COMPRESS_BYTE_COUNT	1722013
+SHUFFLE	COPY_MAP_DATA	275785000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5557673
+SHUFFLE	COMPRESS_BYTE_COUNT	1706552
+SHUFFLE	COPY_MAP_DATA	7836567000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5572594
+SHUFFLE	COMPRESS_BYTE_COUNT	1710466
+SHUFFLE	COPY_MAP_DATA	257471000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5517996
+SHUFFLE	COMPRESS_BYTE_COUNT	1694032
+SHUFFLE	COPY_MAP_DATA	84198000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5497282
+SHUFFLE	COMPRESS_BYTE_COUNT	1687777
+SHUFFLE	COPY_MAP_DATA	125944000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5528422
+SHUFFLE	COMPRESS_BYTE_COUNT	1695970
+SHUFFLE	COPY_MAP_DATA	626669000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5474035
+SHUFFLE	COMPRESS_BYTE_COUNT	1681662
+SHUFFLE	COPY_MAP_DATA	88756000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5530736
+SHUFFLE	COMPRESS_BYTE_COUNT	1696964
+SHUFFLE	COPY_MAP_DATA	662630000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5531386
+SHUFFLE	COMPRESS_BYTE_COUNT	1698266
+SHUFFLE	COPY_MAP_DATA	155164000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5563644
+SHUFFLE	COMPRESS_BYTE_COUNT	1707945
+SHUFFLE	COPY_MAP_DATA	275622000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5559554
+SHUFFLE	COMPRESS_BYTE_COUNT	1705762
+SHUFFLE	COPY_MAP_DATA	210707000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5540641
+SHUFFLE	COMPRESS_BYTE_COUNT	1700127
+SHUFFLE	COPY_MAP_DATA	85724000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5511066
+SHUFFLE	COMPRESS_BYTE_COUNT	1691224
+SHUFFLE	COPY_MAP_DATA	84750000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5500613
+SHUFFLE	COMPRESS_BYTE_COUNT	1710318
+SHUFFLE	COPY_MAP_DATA	117033000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5551064
+SHUFFLE	COMPRESS_BYTE_COUNT	1725397
+SHUFFLE	COPY_MAP_DATA	85087000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5536818
+SHUFFLE	COMPRESS_BYTE_COUNT	1698927
+SHUFFLE	COPY_MAP_DATA	160323000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5508171
+SHUFFLE	COMPRESS_BYTE_COUNT	1712204
+SHUFFLE	COPY_MAP_DATA	102580000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5596353
+SHUFFLE	COMPRESS_BYTE_COUNT	1718785
+SHUFFLE	COPY_MAP_DATA	203745000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5501041
+SHUFFLE	COMPRESS_BYTE_COUNT	1688252
+SHUFFLE	COPY_MAP_DATA	657216000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5591866
+SHUFFLE	COMPRESS_BYTE_COUNT	1716428
+SHUFFLE	COPY_MAP_DATA	268135000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5541504
+SHUFFLE	COMPRESS_BYTE_COUNT	1701625
+SHUFFLE	COPY_MAP_DATA	653901000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5500178
+SHUFFLE	COMPRESS_BYTE_COUNT	1688011
+SHUFFLE	COPY_MAP_DATA	3525191000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5547236
+SHUFFLE	COMPRESS_BYTE_COUNT	1702630
+SHUFFLE	COPY_MAP_DATA	90734000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5548297
+SHUFFLE	COMPRESS_BYTE_COUNT	1725176
+SHUFFLE	COPY_MAP_DATA	167005000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5561165
+SHUFFLE	COMPRESS_BYTE_COUNT	1707839
+SHUFFLE	COPY_MAP_DATA	599485000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5589269
+SHUFFLE	COMPRESS_BYTE_COUNT	1716531
+SHUFFLE	COPY_MAP_DATA	802698000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5574706
+SHUFFLE	COMPRESS_BYTE_COUNT	1710675
+SHUFFLE	COPY_MAP_DATA	7889207000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5549332
+SHUFFLE	COMPRESS_BYTE_COUNT	1703289
+SHUFFLE	COPY_MAP_DATA	2786066000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5566826
+SHUFFLE	COMPRESS_BYTE_COUNT	1708306
+SHUFFLE	COPY_MAP_DATA	106115000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5522793
+SHUFFLE	COMPRESS_BYTE_COUNT	1695659
+SHUFFLE	COPY_MAP_DATA	2769276000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5574512
+SHUFFLE	COMPRESS_BYTE_COUNT	1711751
+SHUFFLE	COPY_MAP_DATA	4671249000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5549115
+SHUFFLE	COMPRESS_BYTE_COUNT	1703011
+SHUFFLE	COPY_MAP_DATA	151200000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5539369
+SHUFFLE	COMPRESS_BYTE_COUNT	1700308
+SHUFFLE	COPY_MAP_DATA	570662000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5539217
+SHUFFLE	COMPRESS_BYTE_COUNT	1720612
+SHUFFLE	COPY_MAP_DATA	157140000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5551436
+SHUFFLE	COMPRESS_BYTE_COUNT	1726168
+SHUFFLE	COPY_MAP_DATA	172827000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5510521
+SHUFFLE	COMPRESS_BYTE_COUNT	1712966
+SHUFFLE	COPY_MAP_DATA	308966000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5469384
+SHUFFLE	COMPRESS_BYTE_COUNT	1700506
+SHUFFLE	COPY_MAP_DATA	93595000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5521336
+SHUFFLE	COMPRESS_BYTE_COUNT	1716808
+SHUFFLE	COPY_MAP_DATA	91084000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5488723
+SHUFFLE	COMPRESS_BYTE_COUNT	1705951
+SHUFFLE	COPY_MAP_DATA	119580000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5501714
+SHUFFLE	COMPRESS_BYTE_COUNT	1689516
+SHUFFLE	COPY_MAP_DATA	115362000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5478520
+SHUFFLE	COMPRESS_BYTE_COUNT	1704064
+SHUFFLE	COPY_MAP_DATA	167403000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5444583
+SHUFFLE	COMPRESS_BYTE_COUNT	1693186
+SHUFFLE	COPY_MAP_DATA	89912000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5541922
+SHUFFLE	COMPRESS_BYTE_COUNT	1722874
+SHUFFLE	COPY_MAP_DATA	89753000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5479130
+SHUFFLE	COMPRESS_BYTE_COUNT	1701930
+SHUFFLE	COPY_MAP_DATA	110539000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5494431
+SHUFFLE	COMPRESS_BYTE_COUNT	1706636
+SHUFFLE	COPY_MAP_DATA	192497000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5528440
+SHUFFLE	COMPRESS_BYTE_COUNT	1718838
+SHUFFLE	COPY_MAP_DATA	105756000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5522751
+SHUFFLE	COMPRESS_BYTE_COUNT	1714600
+SHUFFLE	COPY_MAP_DATA	673515000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5595582
+SHUFFLE	COMPRESS_BYTE_COUNT	1717872
+SHUFFLE	COPY_MAP_DATA	549381000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5578643
+SHUFFLE	COMPRESS_BYTE_COUNT	1711391
+SHUFFLE	COPY_MAP_DATA	249146000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5510462
+SHUFFLE	COMPRESS_BYTE_COUNT	1712630
+SHUFFLE	COPY_MAP_DATA	143582000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5540240
+SHUFFLE	COMPRESS_BYTE_COUNT	1721248
+SHUFFLE	COPY_MAP_DATA	85634000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5538506
+SHUFFLE	COMPRESS_BYTE_COUNT	1721473
+SHUFFLE	COPY_MAP_DATA	87894000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5468631
+SHUFFLE	COMPRESS_BYTE_COUNT	1698167
+SHUFFLE	COPY_MAP_DATA	150349000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5527731
+SHUFFLE	COMPRESS_BYTE_COUNT	1717768
+SHUFFLE	COPY_MAP_DATA	128329000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5510746
+SHUFFLE	COMPRESS_BYTE_COUNT	1713099
+SHUFFLE	COPY_MAP_DATA	1052023000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5381872
+SHUFFLE	COMPRESS_BYTE_COUNT	1674440
+SHUFFLE	COPY_MAP_DATA	269161000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5503925
+SHUFFLE	COMPRESS_BYTE_COUNT	1709785
+SHUFFLE	COPY_MAP_DATA	86694000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5483836
+SHUFFLE	COMPRESS_BYTE_COUNT	1703933
+SHUFFLE	COPY_MAP_DATA	1080107000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5502151
+SHUFFLE	COMPRESS_BYTE_COUNT	1710828
+SHUFFLE	COPY_MAP_DATA	421847000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5512332
+SHUFFLE	COMPRESS_BYTE_COUNT	1713819
+SHUFFLE	COPY_MAP_DATA	98384000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5514040
+SHUFFLE	COMPRESS_BYTE_COUNT	1713855
+SHUFFLE	COPY_MAP_DATA	90110000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5531891
+SHUFFLE	COMPRESS_BYTE_COUNT	1719016
+SHUFFLE	COPY_MAP_DATA	90397000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5479794
+SHUFFLE	COMPRESS_BYTE_COUNT	1704289
+SHUFFLE	COPY_MAP_DATA	537241000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5517273
+SHUFFLE	COMPRESS_BYTE_COUNT	1714960
+SHUFFLE	COPY_MAP_DATA	163450000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5561283
+SHUFFLE	COMPRESS_BYTE_COUNT	1732421
+SHUFFLE	COPY_MAP_DATA	194754000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5548517
+SHUFFLE	COMPRESS_BYTE_COUNT	1727965
+SHUFFLE	COPY_MAP_DATA	90788000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5563718
+SHUFFLE	COMPRESS_BYTE_COUNT	1730914
+SHUFFLE	COPY_MAP_DATA	152426000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5557752
+SHUFFLE	COMPRESS_BYTE_COUNT	1731108
+SHUFFLE	COPY_MAP_DATA	658090000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5534888
+SHUFFLE	COMPRESS_BYTE_COUNT	1721086
+SHUFFLE	COPY_MAP_DATA	110999000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5597178
+SHUFFLE	COMPRESS_BYTE_COUNT	1727565
+SHUFFLE	COPY_MAP_DATA	96635000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5550066
+SHUFFLE	COMPRESS_BYTE_COUNT	1729293
+SHUFFLE	COPY_MAP_DATA	269845000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5597795
+SHUFFLE	COMPRESS_BYTE_COUNT	1728752
+SHUFFLE	COPY_MAP_DATA	170300000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5552704
+SHUFFLE	COMPRESS_BYTE_COUNT	1730632
+SHUFFLE	COPY_MAP_DATA	180328000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5602099
+SHUFFLE	COMPRESS_BYTE_COUNT	1729580
+SHUFFLE	COPY_MAP_DATA	96693000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5547928
+SHUFFLE	COMPRESS_BYTE_COUNT	1728937
+SHUFFLE	COPY_MAP_DATA	91743000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5584896
+SHUFFLE	COMPRESS_BYTE_COUNT	1723118
+SHUFFLE	COPY_MAP_DATA	301324000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5461209
+SHUFFLE	COMPRESS_BYTE_COUNT	1698515
+SHUFFLE	COPY_MAP_DATA	91255000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5590975
+SHUFFLE	COMPRESS_BYTE_COUNT	1725759
+SHUFFLE	COPY_MAP_DATA	90602000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5545302
+SHUFFLE	COMPRESS_BYTE_COUNT	1722991
+SHUFFLE	COPY_MAP_DATA	96315000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4748952
+SHUFFLE	COMPRESS_BYTE_COUNT	1458140
+SHUFFLE	COPY_MAP_DATA	210026000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4730373
+SHUFFLE	COMPRESS_BYTE_COUNT	1452796
+SHUFFLE	COPY_MAP_DATA	521556000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4490473
+SHUFFLE	COMPRESS_BYTE_COUNT	1396459
+SHUFFLE	COPY_MAP_DATA	449298000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5562996
+SHUFFLE	COMPRESS_BYTE_COUNT	1732531
+SHUFFLE	COPY_MAP_DATA	132701000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4442841
+SHUFFLE	COMPRESS_BYTE_COUNT	1381660
+SHUFFLE	COPY_MAP_DATA	275768000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5602663
+SHUFFLE	COMPRESS_BYTE_COUNT	1730186
+SHUFFLE	COPY_MAP_DATA	143645000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4801852
+SHUFFLE	COMPRESS_BYTE_COUNT	1473910
+SHUFFLE	COPY_MAP_DATA	186514000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5536757
+SHUFFLE	COMPRESS_BYTE_COUNT	1725321
+SHUFFLE	COPY_MAP_DATA	383262000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5600786
+SHUFFLE	COMPRESS_BYTE_COUNT	1729204
+SHUFFLE	COPY_MAP_DATA	247601000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5588752
+SHUFFLE	COMPRESS_BYTE_COUNT	1724981
+SHUFFLE	COPY_MAP_DATA	97799000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5512642
+SHUFFLE	COMPRESS_BYTE_COUNT	1734670
+SHUFFLE	COPY_MAP_DATA	764817000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5594059
+SHUFFLE	COMPRESS_BYTE_COUNT	1726862
+SHUFFLE	COPY_MAP_DATA	87567000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5539669
+SHUFFLE	COMPRESS_BYTE_COUNT	1727337
+SHUFFLE	COPY_MAP_DATA	283473000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4465656
+SHUFFLE	COMPRESS_BYTE_COUNT	1388765
+SHUFFLE	COPY_MAP_DATA	107443000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5505963
+SHUFFLE	COMPRESS_BYTE_COUNT	1747188
+SHUFFLE	COPY_MAP_DATA	447527000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5584364
+SHUFFLE	COMPRESS_BYTE_COUNT	1724439
+SHUFFLE	COPY_MAP_DATA	95965000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4494131
+SHUFFLE	COMPRESS_BYTE_COUNT	1397575
+SHUFFLE	COPY_MAP_DATA	76579000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5600378
+SHUFFLE	COMPRESS_BYTE_COUNT	1728450
+SHUFFLE	COPY_MAP_DATA	981286000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1739526
+SHUFFLE	COMPRESS_BYTE_COUNT	537104
+SHUFFLE	COPY_MAP_DATA	34918000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5603414
+SHUFFLE	COMPRESS_BYTE_COUNT	1729939
+SHUFFLE	COPY_MAP_DATA	146008000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5563036
+SHUFFLE	COMPRESS_BYTE_COUNT	1732544
+SHUFFLE	COPY_MAP_DATA	127309000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1730982
+SHUFFLE	COMPRESS_BYTE_COUNT	535777
+SHUFFLE	COPY_MAP_DATA	29754000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5588278
+SHUFFLE	COMPRESS_BYTE_COUNT	1725200
+SHUFFLE	COPY_MAP_DATA	168839000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4733593
+SHUFFLE	COMPRESS_BYTE_COUNT	1453863
+SHUFFLE	COPY_MAP_DATA	79386000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5552469
+SHUFFLE	COMPRESS_BYTE_COUNT	1729518
+SHUFFLE	COPY_MAP_DATA	108953000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4784944
+SHUFFLE	COMPRESS_BYTE_COUNT	1469071
+SHUFFLE	COPY_MAP_DATA	87681000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4516822
+SHUFFLE	COMPRESS_BYTE_COUNT	1404388
+SHUFFLE	COPY_MAP_DATA	120510000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4705914
+SHUFFLE	COMPRESS_BYTE_COUNT	1445071
+SHUFFLE	COPY_MAP_DATA	206976000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4441309
+SHUFFLE	COMPRESS_BYTE_COUNT	1380348
+SHUFFLE	COPY_MAP_DATA	74205000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4417067
+SHUFFLE	COMPRESS_BYTE_COUNT	1372690
+SHUFFLE	COPY_MAP_DATA	144803000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1739695
+SHUFFLE	COMPRESS_BYTE_COUNT	537811
+SHUFFLE	COPY_MAP_DATA	3786911000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5556840
+SHUFFLE	COMPRESS_BYTE_COUNT	1730653
+SHUFFLE	COPY_MAP_DATA	700460000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1667226
+SHUFFLE	COMPRESS_BYTE_COUNT	519973
+SHUFFLE	COPY_MAP_DATA	128243000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1729430
+SHUFFLE	COMPRESS_BYTE_COUNT	535155
+SHUFFLE	COPY_MAP_DATA	33686000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4739635
+SHUFFLE	COMPRESS_BYTE_COUNT	1454731
+SHUFFLE	COPY_MAP_DATA	157403000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5553872
+SHUFFLE	COMPRESS_BYTE_COUNT	1730871
+SHUFFLE	COPY_MAP_DATA	94691000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4390534
+SHUFFLE	COMPRESS_BYTE_COUNT	1364934
+SHUFFLE	COPY_MAP_DATA	326620000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4487734
+SHUFFLE	COMPRESS_BYTE_COUNT	1395253
+SHUFFLE	COPY_MAP_DATA	74309000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4740764
+SHUFFLE	COMPRESS_BYTE_COUNT	1456529
+SHUFFLE	COPY_MAP_DATA	78678000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1663729
+SHUFFLE	COMPRESS_BYTE_COUNT	519074
+SHUFFLE	COPY_MAP_DATA	31818000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1739537
+SHUFFLE	COMPRESS_BYTE_COUNT	537661
+SHUFFLE	COPY_MAP_DATA	42053000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1738850
+SHUFFLE	COMPRESS_BYTE_COUNT	537710
+SHUFFLE	COPY_MAP_DATA	29557000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5557791
+SHUFFLE	COMPRESS_BYTE_COUNT	1731458
+SHUFFLE	COPY_MAP_DATA	816331000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1741129
+SHUFFLE	COMPRESS_BYTE_COUNT	538559
+SHUFFLE	COPY_MAP_DATA	54852000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1743305
+SHUFFLE	COMPRESS_BYTE_COUNT	538832
+SHUFFLE	COPY_MAP_DATA	30770000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4714079
+SHUFFLE	COMPRESS_BYTE_COUNT	1446509
+SHUFFLE	COPY_MAP_DATA	83177000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4748956
+SHUFFLE	COMPRESS_BYTE_COUNT	1457874
+SHUFFLE	COPY_MAP_DATA	93910000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4465897
+SHUFFLE	COMPRESS_BYTE_COUNT	1388617
+SHUFFLE	COPY_MAP_DATA	285456000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1742406
+SHUFFLE	COMPRESS_BYTE_COUNT	538961
+SHUFFLE	COPY_MAP_DATA	30636000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4753360
+SHUFFLE	COMPRESS_BYTE_COUNT	1458832
+SHUFFLE	COPY_MAP_DATA	110181000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4730313
+SHUFFLE	COMPRESS_BYTE_COUNT	1451433
+SHUFFLE	COPY_MAP_DATA	93768000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4124053
+SHUFFLE	COMPRESS_BYTE_COUNT	1299134
+SHUFFLE	COPY_MAP_DATA	130741000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1733986
+SHUFFLE	COMPRESS_BYTE_COUNT	535956
+SHUFFLE	COPY_MAP_DATA	128632000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1664206
+SHUFFLE	COMPRESS_BYTE_COUNT	519468
+SHUFFLE	COPY_MAP_DATA	39062000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1667079
+SHUFFLE	COMPRESS_BYTE_COUNT	520521
+SHUFFLE	COPY_MAP_DATA	30186000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4445124
+SHUFFLE	COMPRESS_BYTE_COUNT	1381576
+SHUFFLE	COPY_MAP_DATA	83985000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1745133
+SHUFFLE	COMPRESS_BYTE_COUNT	539328
+SHUFFLE	COPY_MAP_DATA	33440000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1666163
+SHUFFLE	COMPRESS_BYTE_COUNT	519861
+SHUFFLE	COPY_MAP_DATA	33888000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4250133
+SHUFFLE	COMPRESS_BYTE_COUNT	1321226
+SHUFFLE	COPY_MAP_DATA	75568000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1669322
+SHUFFLE	COMPRESS_BYTE_COUNT	520302
+SHUFFLE	COPY_MAP_DATA	58228000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1730661
+SHUFFLE	COMPRESS_BYTE_COUNT	535692
+SHUFFLE	COPY_MAP_DATA	96752000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1663281
+SHUFFLE	COMPRESS_BYTE_COUNT	518957
+SHUFFLE	COPY_MAP_DATA	157427000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1659769
+SHUFFLE	COMPRESS_BYTE_COUNT	517950
+SHUFFLE	COPY_MAP_DATA	28816000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1666271
+SHUFFLE	COMPRESS_BYTE_COUNT	519290
+SHUFFLE	COPY_MAP_DATA	53250000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1739136
+SHUFFLE	COMPRESS_BYTE_COUNT	537727
+SHUFFLE	COPY_MAP_DATA	40970000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1666193
+SHUFFLE	COMPRESS_BYTE_COUNT	520477
+SHUFFLE	COPY_MAP_DATA	544217000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1704153
+SHUFFLE	COMPRESS_BYTE_COUNT	526732
+SHUFFLE	COPY_MAP_DATA	368610000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1626385
+SHUFFLE	COMPRESS_BYTE_COUNT	507830
+SHUFFLE	COPY_MAP_DATA	35610000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4451905
+SHUFFLE	COMPRESS_BYTE_COUNT	1384158
+SHUFFLE	COPY_MAP_DATA	86638000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1657771
+SHUFFLE	COMPRESS_BYTE_COUNT	517425
+SHUFFLE	COPY_MAP_DATA	36487000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1669304
+SHUFFLE	COMPRESS_BYTE_COUNT	520458
+SHUFFLE	COPY_MAP_DATA	28792000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4680128
+SHUFFLE	COMPRESS_BYTE_COUNT	1437305
+SHUFFLE	COPY_MAP_DATA	76398000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1668645
+SHUFFLE	COMPRESS_BYTE_COUNT	520708
+SHUFFLE	COPY_MAP_DATA	30175000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1659847
+SHUFFLE	COMPRESS_BYTE_COUNT	518271
+SHUFFLE	COPY_MAP_DATA	97809000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4488995
+SHUFFLE	COMPRESS_BYTE_COUNT	1395213
+SHUFFLE	COPY_MAP_DATA	904531000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1579135
+SHUFFLE	COMPRESS_BYTE_COUNT	497980
+SHUFFLE	COPY_MAP_DATA	27235000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4561430
+SHUFFLE	COMPRESS_BYTE_COUNT	1400505
+SHUFFLE	COPY_MAP_DATA	75966000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4501973
+SHUFFLE	COMPRESS_BYTE_COUNT	1399314
+SHUFFLE	COPY_MAP_DATA	111243000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	323457009848
+MERGE	READ_WRITE	321399691848
+MERGE	READ_WRITE_COUNT	8
+MERGE	COMBINE	0
+MERGE	WRITE	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	11662409000
+SORT	READ_WRITE	11478345000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	158142608
+REDUCE	SETUP	603000
+REDUCE	SETUP_MEM	158142608
+REDUCE	CLEANUP	38000
+REDUCE	CLEANUP_MEM	199629816
+REDUCE	TOTAL_RUN	501201229000
+REDUCE	READ	11328752000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	477324923000
+REDUCE	WRITE	269745162000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	55898322
+REDUCE	VALUE_BYTE_COUNT	1648150542
+REDUCE	REDUCE_MEM	199629816
+REDUCE	WRITE	10076152000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	1217632945292
@@ -0,0 +1,989 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5533272
+SHUFFLE	COMPRESS_BYTE_COUNT	1719005
+SHUFFLE	COPY_MAP_DATA	121754000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5458608
+SHUFFLE	COMPRESS_BYTE_COUNT	1696918
+SHUFFLE	COPY_MAP_DATA	584059000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5515207
+SHUFFLE	COMPRESS_BYTE_COUNT	1713172
+SHUFFLE	COPY_MAP_DATA	259773000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5501525
+SHUFFLE	COMPRESS_BYTE_COUNT	1732522
+SHUFFLE	COPY_MAP_DATA	176476000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5514903
+SHUFFLE	COMPRESS_BYTE_COUNT	1713656
+SHUFFLE	COPY_MAP_DATA	152151000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5530491
+SHUFFLE	COMPRESS_BYTE_COUNT	1717788
+SHUFFLE	COPY_MAP_DATA	137986000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5406746
+SHUFFLE	COMPRESS_BYTE_COUNT	1681592
+SHUFFLE	COPY_MAP_DATA	133878000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5531327
+SHUFFLE	COMPRESS_BYTE_COUNT	1718316
+SHUFFLE	COPY_MAP_DATA	98024000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5544008
+SHUFFLE	COMPRESS_BYTE_COUNT	1723546
+SHUFFLE	COPY_MAP_DATA	387770000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5485683
+SHUFFLE	COMPRESS_BYTE_COUNT	1726949
+SHUFFLE	COPY_MAP_DATA	206784000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5539247
+SHUFFLE	COMPRESS_BYTE_COUNT	1721648
+SHUFFLE	COPY_MAP_DATA	125997000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5527735
+SHUFFLE	COMPRESS_BYTE_COUNT	1718175
+SHUFFLE	COPY_MAP_DATA	182481000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5503212
+SHUFFLE	COMPRESS_BYTE_COUNT	1710247
+SHUFFLE	COPY_MAP_DATA	131403000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5526802
+SHUFFLE	COMPRESS_BYTE_COUNT	1718024
+SHUFFLE	COPY_MAP_DATA	165708000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5504189
+SHUFFLE	COMPRESS_BYTE_COUNT	1710229
+SHUFFLE	COPY_MAP_DATA	198890000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5471631
+SHUFFLE	COMPRESS_BYTE_COUNT	1701085
+SHUFFLE	COPY_MAP_DATA	111669000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5480271
+SHUFFLE	COMPRESS_BYTE_COUNT	1703995
+SHUFFLE	COPY_MAP_DATA	110530000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5561920
+SHUFFLE	COMPRESS_BYTE_COUNT	1729621
+SHUFFLE	COPY_MAP_DATA	220635000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5491919
+SHUFFLE	COMPRESS_BYTE_COUNT	1707405
+SHUFFLE	COPY_MAP_DATA	224424000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5492515
+SHUFFLE	COMPRESS_BYTE_COUNT	1708057
+SHUFFLE	COPY_MAP_DATA	230016000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5582632
+SHUFFLE	COMPRESS_BYTE_COUNT	1712556
+SHUFFLE	COPY_MAP_DATA	98628000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5451748
+SHUFFLE	COMPRESS_BYTE_COUNT	1716986
+SHUFFLE	COPY_MAP_DATA	224748000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5493142
+SHUFFLE	COMPRESS_BYTE_COUNT	1707427
+SHUFFLE	COPY_MAP_DATA	144178000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5529671
+SHUFFLE	COMPRESS_BYTE_COUNT	1718537
+SHUFFLE	COPY_MAP_DATA	293064000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5409635
+SHUFFLE	COMPRESS_BYTE_COUNT	1704023
+SHUFFLE	COPY_MAP_DATA	89024000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5497862
+SHUFFLE	COMPRESS_BYTE_COUNT	1708473
+SHUFFLE	COPY_MAP_DATA	86788000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5534619
+SHUFFLE	COMPRESS_BYTE_COUNT	1720187
+SHUFFLE	COPY_MAP_DATA	2053812000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5492832
+SHUFFLE	COMPRESS_BYTE_COUNT	1707192
+SHUFFLE	COPY_MAP_DATA	1612956000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5477035
+SHUFFLE	COMPRESS_BYTE_COUNT	1703103
+SHUFFLE	COPY_MAP_DATA	540064000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5420421
+SHUFFLE	COMPRESS_BYTE_COUNT	1732442
+SHUFFLE	COPY_MAP_DATA	140543000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5545604
+SHUFFLE	COMPRESS_BYTE_COUNT	1722920
+SHUFFLE	COPY_MAP_DATA	95695000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5576364
+SHUFFLE	COMPRESS_BYTE_COUNT	1712261
+SHUFFLE	COPY_MAP_DATA	214207000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5522515
+SHUFFLE	COMPRESS_BYTE_COUNT	1716315
+SHUFFLE	COPY_MAP_DATA	131062000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5545751
+SHUFFLE	COMPRESS_BYTE_COUNT	1702377
+SHUFFLE	COPY_MAP_DATA	86020000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5569279
+SHUFFLE	COMPRESS_BYTE_COUNT	1708555
+SHUFFLE	COPY_MAP_DATA	113406000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5482766
+SHUFFLE	COMPRESS_BYTE_COUNT	1682976
+SHUFFLE	COPY_MAP_DATA	83496000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5491282
+SHUFFLE	COMPRESS_BYTE_COUNT	1706002
+SHUFFLE	COPY_MAP_DATA	427623000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5498471
+SHUFFLE	COMPRESS_BYTE_COUNT	1709561
+SHUFFLE	COPY_MAP_DATA	134524000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5472237
+SHUFFLE	COMPRESS_BYTE_COUNT	1681181
+SHUFFLE	COPY_MAP_DATA	181673000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5535273
+SHUFFLE	COMPRESS_BYTE_COUNT	1720052
+SHUFFLE	COPY_MAP_DATA	104133000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5480886
+SHUFFLE	COMPRESS_BYTE_COUNT	1702907
+SHUFFLE	COPY_MAP_DATA	207261000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5546212
+SHUFFLE	COMPRESS_BYTE_COUNT	1702656
+SHUFFLE	COPY_MAP_DATA	155150000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5549988
+SHUFFLE	COMPRESS_BYTE_COUNT	1724723
+SHUFFLE	COPY_MAP_DATA	84065000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5443535
+SHUFFLE	COMPRESS_BYTE_COUNT	1693673
+SHUFFLE	COPY_MAP_DATA	903086000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5472826
+SHUFFLE	COMPRESS_BYTE_COUNT	1701952
+SHUFFLE	COPY_MAP_DATA	479693000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5516786
+SHUFFLE	COMPRESS_BYTE_COUNT	1713995
+SHUFFLE	COPY_MAP_DATA	101516000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5527430
+SHUFFLE	COMPRESS_BYTE_COUNT	1717260
+SHUFFLE	COPY_MAP_DATA	5958496000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5513426
+SHUFFLE	COMPRESS_BYTE_COUNT	1692749
+SHUFFLE	COPY_MAP_DATA	86373000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5529802
+SHUFFLE	COMPRESS_BYTE_COUNT	1718782
+SHUFFLE	COPY_MAP_DATA	2174714000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5509705
+SHUFFLE	COMPRESS_BYTE_COUNT	1712750
+SHUFFLE	COPY_MAP_DATA	293800000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5502874
+SHUFFLE	COMPRESS_BYTE_COUNT	1731534
+SHUFFLE	COPY_MAP_DATA	149428000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5565901
+SHUFFLE	COMPRESS_BYTE_COUNT	1729440
+SHUFFLE	COPY_MAP_DATA	160915000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5501570
+SHUFFLE	COMPRESS_BYTE_COUNT	1706619
+SHUFFLE	COPY_MAP_DATA	87858000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5561445
+SHUFFLE	COMPRESS_BYTE_COUNT	1707333
+SHUFFLE	COPY_MAP_DATA	215341000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5483487
+SHUFFLE	COMPRESS_BYTE_COUNT	1684622
+SHUFFLE	COPY_MAP_DATA	1202364000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5482033
+SHUFFLE	COMPRESS_BYTE_COUNT	1683157
+SHUFFLE	COPY_MAP_DATA	460698000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5506914
+SHUFFLE	COMPRESS_BYTE_COUNT	1712993
+SHUFFLE	COPY_MAP_DATA	248873000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5571237
+SHUFFLE	COMPRESS_BYTE_COUNT	1711139
+SHUFFLE	COPY_MAP_DATA	278096000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5511400
+SHUFFLE	COMPRESS_BYTE_COUNT	1691750
+SHUFFLE	COPY_MAP_DATA	85534000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5541856
+SHUFFLE	COMPRESS_BYTE_COUNT	1702412
+SHUFFLE	COPY_MAP_DATA	110226000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5558673
+SHUFFLE	COMPRESS_BYTE_COUNT	1706224
+SHUFFLE	COPY_MAP_DATA	85606000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5586256
+SHUFFLE	COMPRESS_BYTE_COUNT	1715358
+SHUFFLE	COPY_MAP_DATA	120242000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5496262
+SHUFFLE	COMPRESS_BYTE_COUNT	1731012
+SHUFFLE	COPY_MAP_DATA	178445000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5539287
+SHUFFLE	COMPRESS_BYTE_COUNT	1699617
+SHUFFLE	COPY_MAP_DATA	217940000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5572587
+SHUFFLE	COMPRESS_BYTE_COUNT	1710518
+SHUFFLE	COPY_MAP_DATA	83166000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5490013
+SHUFFLE	COMPRESS_BYTE_COUNT	1727501
+SHUFFLE	COPY_MAP_DATA	92435000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5565212
+SHUFFLE	COMPRESS_BYTE_COUNT	1708556
+SHUFFLE	COPY_MAP_DATA	83031000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5498037
+SHUFFLE	COMPRESS_BYTE_COUNT	1686772
+SHUFFLE	COPY_MAP_DATA	105386000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5502312
+SHUFFLE	COMPRESS_BYTE_COUNT	1689761
+SHUFFLE	COPY_MAP_DATA	87299000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5547481
+SHUFFLE	COMPRESS_BYTE_COUNT	1702588
+SHUFFLE	COPY_MAP_DATA	202743000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5525576
+SHUFFLE	COMPRESS_BYTE_COUNT	1696711
+SHUFFLE	COPY_MAP_DATA	81410000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5556499
+SHUFFLE	COMPRESS_BYTE_COUNT	1704793
+SHUFFLE	COPY_MAP_DATA	81456000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5540593
+SHUFFLE	COMPRESS_BYTE_COUNT	1700751
+SHUFFLE	COPY_MAP_DATA	276165000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5550748
+SHUFFLE	COMPRESS_BYTE_COUNT	1702559
+SHUFFLE	COPY_MAP_DATA	86851000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5562428
+SHUFFLE	COMPRESS_BYTE_COUNT	1708326
+SHUFFLE	COPY_MAP_DATA	672929000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5519656
+SHUFFLE	COMPRESS_BYTE_COUNT	1695521
+SHUFFLE	COPY_MAP_DATA	476160000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5558616
+SHUFFLE	COMPRESS_BYTE_COUNT	1705329
+SHUFFLE	COPY_MAP_DATA	233146000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5412906
+SHUFFLE	COMPRESS_BYTE_COUNT	1701106
+SHUFFLE	COPY_MAP_DATA	1096850000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5563386
+SHUFFLE	COMPRESS_BYTE_COUNT	1707815
+SHUFFLE	COPY_MAP_DATA	1730895000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5536288
+SHUFFLE	COMPRESS_BYTE_COUNT	1699234
+SHUFFLE	COPY_MAP_DATA	219340000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5530314
+SHUFFLE	COMPRESS_BYTE_COUNT	1697206
+SHUFFLE	COPY_MAP_DATA	307124000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5548232
+SHUFFLE	COMPRESS_BYTE_COUNT	1702988
+SHUFFLE	COPY_MAP_DATA	9520389000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5536578
+SHUFFLE	COMPRESS_BYTE_COUNT	1699608
+SHUFFLE	COPY_MAP_DATA	99098000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5572181
+SHUFFLE	COMPRESS_BYTE_COUNT	1709860
+SHUFFLE	COPY_MAP_DATA	200399000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5568085
+SHUFFLE	COMPRESS_BYTE_COUNT	1709233
+SHUFFLE	COPY_MAP_DATA	95383000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5553172
+SHUFFLE	COMPRESS_BYTE_COUNT	1703592
+SHUFFLE	COPY_MAP_DATA	88834000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5550858
+SHUFFLE	COMPRESS_BYTE_COUNT	1704063
+SHUFFLE	COPY_MAP_DATA	96880000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5522056
+SHUFFLE	COMPRESS_BYTE_COUNT	1694961
+SHUFFLE	COPY_MAP_DATA	89753000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5519291
+SHUFFLE	COMPRESS_BYTE_COUNT	1695444
+SHUFFLE	COPY_MAP_DATA	98092000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5594858
+SHUFFLE	COMPRESS_BYTE_COUNT	1716330
+SHUFFLE	COPY_MAP_DATA	11268611000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5587662
+SHUFFLE	COMPRESS_BYTE_COUNT	1715080
+SHUFFLE	COPY_MAP_DATA	109929000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5540146
+SHUFFLE	COMPRESS_BYTE_COUNT	1700592
+SHUFFLE	COPY_MAP_DATA	160982000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5513275
+SHUFFLE	COMPRESS_BYTE_COUNT	1692398
+SHUFFLE	COPY_MAP_DATA	405430000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5519213
+SHUFFLE	COMPRESS_BYTE_COUNT	1693268
+SHUFFLE	COPY_MAP_DATA	117007000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5513040
+SHUFFLE	COMPRESS_BYTE_COUNT	1692547
+SHUFFLE	COPY_MAP_DATA	82603000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5528451
+SHUFFLE	COMPRESS_BYTE_COUNT	1698183
+SHUFFLE	COPY_MAP_DATA	82274000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5524520
+SHUFFLE	COMPRESS_BYTE_COUNT	1717473
+SHUFFLE	COPY_MAP_DATA	95400000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5534273
+SHUFFLE	COMPRESS_BYTE_COUNT	1718703
+SHUFFLE	COPY_MAP_DATA	1024162000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5539263
+SHUFFLE	COMPRESS_BYTE_COUNT	1700713
+SHUFFLE	COPY_MAP_DATA	163578000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5532675
+SHUFFLE	COMPRESS_BYTE_COUNT	1697636
+SHUFFLE	COPY_MAP_DATA	96566000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5556218
+SHUFFLE	COMPRESS_BYTE_COUNT	1703916
+SHUFFLE	COPY_MAP_DATA	88141000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5513626
+SHUFFLE	COMPRESS_BYTE_COUNT	1714354
+SHUFFLE	COPY_MAP_DATA	456816000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5496666
+SHUFFLE	COMPRESS_BYTE_COUNT	1687734
+SHUFFLE	COPY_MAP_DATA	81243000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5527588
+SHUFFLE	COMPRESS_BYTE_COUNT	1696604
+SHUFFLE	COPY_MAP_DATA	3492249000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5516087
+SHUFFLE	COMPRESS_BYTE_COUNT	1693404
+SHUFFLE	COPY_MAP_DATA	480318000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5556986
+SHUFFLE	COMPRESS_BYTE_COUNT	1705006
+SHUFFLE	COPY_MAP_DATA	4262599000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5510704
+SHUFFLE	COMPRESS_BYTE_COUNT	1713032
+SHUFFLE	COPY_MAP_DATA	188764000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5564201
+SHUFFLE	COMPRESS_BYTE_COUNT	1707835
+SHUFFLE	COPY_MAP_DATA	161388000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5485932
+SHUFFLE	COMPRESS_BYTE_COUNT	1684952
+SHUFFLE	COPY_MAP_DATA	145325000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5543930
+SHUFFLE	COMPRESS_BYTE_COUNT	1702362
+SHUFFLE	COPY_MAP_DATA	7039156000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5558381
+SHUFFLE	COMPRESS_BYTE_COUNT	1705643
+SHUFFLE	COPY_MAP_DATA	107596000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5561291
+SHUFFLE	COMPRESS_BYTE_COUNT	1707436
+SHUFFLE	COPY_MAP_DATA	2457203000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5577412
+SHUFFLE	COMPRESS_BYTE_COUNT	1712389
+SHUFFLE	COPY_MAP_DATA	3065868000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5585362
+SHUFFLE	COMPRESS_BYTE_COUNT	1713928
+SHUFFLE	COPY_MAP_DATA	134290000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5475224
+SHUFFLE	COMPRESS_BYTE_COUNT	1681598
+SHUFFLE	COPY_MAP_DATA	1464078000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5508710
+SHUFFLE	COMPRESS_BYTE_COUNT	1690949
+SHUFFLE	COPY_MAP_DATA	133739000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5567443
+SHUFFLE	COMPRESS_BYTE_COUNT	1730588
+SHUFFLE	COPY_MAP_DATA	87236000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5519989
+SHUFFLE	COMPRESS_BYTE_COUNT	1714796
+SHUFFLE	COPY_MAP_DATA	599049000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5495441
+SHUFFLE	COMPRESS_BYTE_COUNT	1708406
+SHUFFLE	COPY_MAP_DATA	1026051000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5496973
+SHUFFLE	COMPRESS_BYTE_COUNT	1708696
+SHUFFLE	COPY_MAP_DATA	85126000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5531697
+SHUFFLE	COMPRESS_BYTE_COUNT	1719874
+SHUFFLE	COPY_MAP_DATA	81855000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5507299
+SHUFFLE	COMPRESS_BYTE_COUNT	1712771
+SHUFFLE	COPY_MAP_DATA	279906000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5550771
+SHUFFLE	COMPRESS_BYTE_COUNT	1703063
+SHUFFLE	COPY_MAP_DATA	98675000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5528848
+SHUFFLE	COMPRESS_BYTE_COUNT	1718469
+SHUFFLE	COPY_MAP_DATA	84869000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5453571
+SHUFFLE	COMPRESS_BYTE_COUNT	1695509
+SHUFFLE	COPY_MAP_DATA	92529000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5485061
+SHUFFLE	COMPRESS_BYTE_COUNT	1704411
+SHUFFLE	COPY_MAP_DATA	1304992000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5522230
+SHUFFLE	COMPRESS_BYTE_COUNT	1717254
+SHUFFLE	COPY_MAP_DATA	370785000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5518849
+SHUFFLE	COMPRESS_BYTE_COUNT	1714903
+SHUFFLE	COPY_MAP_DATA	299440000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5430140
+SHUFFLE	COMPRESS_BYTE_COUNT	1688517
+SHUFFLE	COPY_MAP_DATA	169857000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5551887
+SHUFFLE	COMPRESS_BYTE_COUNT	1725632
+SHUFFLE	COPY_MAP_DATA	87417000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5485751
+SHUFFLE	COMPRESS_BYTE_COUNT	1684016
+SHUFFLE	COPY_MAP_DATA	103804000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5526386
+SHUFFLE	COMPRESS_BYTE_COUNT	1717217
+SHUFFLE	COPY_MAP_DATA	116567000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5475573
+SHUFFLE	COMPRESS_BYTE_COUNT	1681106
+SHUFFLE	COPY_MAP_DATA	230094000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5456056
+SHUFFLE	COMPRESS_BYTE_COUNT	1696496
+SHUFFLE	COPY_MAP_DATA	81158000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5524717
+SHUFFLE	COMPRESS_BYTE_COUNT	1717198
+SHUFFLE	COPY_MAP_DATA	90739000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5492291
+SHUFFLE	COMPRESS_BYTE_COUNT	1709014
+SHUFFLE	COPY_MAP_DATA	81427000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5452023
+SHUFFLE	COMPRESS_BYTE_COUNT	1694044
+SHUFFLE	COPY_MAP_DATA	1305094000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5513095
+SHUFFLE	COMPRESS_BYTE_COUNT	1713744
+SHUFFLE	COPY_MAP_DATA	97946000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5514616
+SHUFFLE	COMPRESS_BYTE_COUNT	1714620
+SHUFFLE	COPY_MAP_DATA	100289000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5527281
+SHUFFLE	COMPRESS_BYTE_COUNT	1717323
+SHUFFLE	COPY_MAP_DATA	220511000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5528092
+SHUFFLE	COMPRESS_BYTE_COUNT	1717667
+SHUFFLE	COPY_MAP_DATA	98381000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5508904
+SHUFFLE	COMPRESS_BYTE_COUNT	1712574
+SHUFFLE	COPY_MAP_DATA	94701000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5519630
+SHUFFLE	COMPRESS_BYTE_COUNT	1717143
+SHUFFLE	COPY_MAP_DATA	770600000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5472421
+SHUFFLE	COMPRESS_BYTE_COUNT	1702185
+SHUFFLE	COPY_MAP_DATA	96570000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5549980
+SHUFFLE	COMPRESS_BYTE_COUNT	1724033
+SHUFFLE	COPY_MAP_DATA	2228134000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5557064
+SHUFFLE	COMPRESS_BYTE_COUNT	1726638
+SHUFFLE	COPY_MAP_DATA	1387391000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5565636
+SHUFFLE	COMPRESS_BYTE_COUNT	1733890
+SHUFFLE	COPY_MAP_DATA	1264082000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5465234
+SHUFFLE	COMPRESS_BYTE_COUNT	1698544
+SHUFFLE	COPY_MAP_DATA	124140000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5544153
+SHUFFLE	COMPRESS_BYTE_COUNT	1727985
+SHUFFLE	COPY_MAP_DATA	86569000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5566074
+SHUFFLE	COMPRESS_BYTE_COUNT	1733508
+SHUFFLE	COPY_MAP_DATA	2750088000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5566912
+SHUFFLE	COMPRESS_BYTE_COUNT	1731522
+SHUFFLE	COPY_MAP_DATA	979743000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5467512
+SHUFFLE	COMPRESS_BYTE_COUNT	1699192
+SHUFFLE	COPY_MAP_DATA	115015000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5558426
+SHUFFLE	COMPRESS_BYTE_COUNT	1731914
+SHUFFLE	COPY_MAP_DATA	87320000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5589149
+SHUFFLE	COMPRESS_BYTE_COUNT	1725702
+SHUFFLE	COPY_MAP_DATA	97932000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5588676
+SHUFFLE	COMPRESS_BYTE_COUNT	1724848
+SHUFFLE	COPY_MAP_DATA	190890000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5595920
+SHUFFLE	COMPRESS_BYTE_COUNT	1727253
+SHUFFLE	COPY_MAP_DATA	397169000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5555778
+SHUFFLE	COMPRESS_BYTE_COUNT	1729385
+SHUFFLE	COPY_MAP_DATA	110643000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5557369
+SHUFFLE	COMPRESS_BYTE_COUNT	1729995
+SHUFFLE	COPY_MAP_DATA	98779000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5584928
+SHUFFLE	COMPRESS_BYTE_COUNT	1723764
+SHUFFLE	COPY_MAP_DATA	139505000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5526008
+SHUFFLE	COMPRESS_BYTE_COUNT	1717230
+SHUFFLE	COPY_MAP_DATA	92017000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5529259
+SHUFFLE	COMPRESS_BYTE_COUNT	1718169
+SHUFFLE	COPY_MAP_DATA	91105000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4717238
+SHUFFLE	COMPRESS_BYTE_COUNT	1448228
+SHUFFLE	COPY_MAP_DATA	92283000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5588777
+SHUFFLE	COMPRESS_BYTE_COUNT	1725461
+SHUFFLE	COPY_MAP_DATA	116192000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5548178
+SHUFFLE	COMPRESS_BYTE_COUNT	1728826
+SHUFFLE	COPY_MAP_DATA	111309000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4472845
+SHUFFLE	COMPRESS_BYTE_COUNT	1390648
+SHUFFLE	COPY_MAP_DATA	107299000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4691044
+SHUFFLE	COMPRESS_BYTE_COUNT	1440020
+SHUFFLE	COPY_MAP_DATA	70013000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4677565
+SHUFFLE	COMPRESS_BYTE_COUNT	1436113
+SHUFFLE	COPY_MAP_DATA	2180623000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5603286
+SHUFFLE	COMPRESS_BYTE_COUNT	1729800
+SHUFFLE	COPY_MAP_DATA	1255225000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4511672
+SHUFFLE	COMPRESS_BYTE_COUNT	1401729
+SHUFFLE	COPY_MAP_DATA	81237000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5599583
+SHUFFLE	COMPRESS_BYTE_COUNT	1728149
+SHUFFLE	COPY_MAP_DATA	87387000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5585274
+SHUFFLE	COMPRESS_BYTE_COUNT	1723826
+SHUFFLE	COPY_MAP_DATA	96335000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5542999
+SHUFFLE	COMPRESS_BYTE_COUNT	1728836
+SHUFFLE	COPY_MAP_DATA	1962729000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5521347
+SHUFFLE	COMPRESS_BYTE_COUNT	1736705
+SHUFFLE	COPY_MAP_DATA	87504000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5586113
+SHUFFLE	COMPRESS_BYTE_COUNT	1724806
+SHUFFLE	COPY_MAP_DATA	87855000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4433131
+SHUFFLE	COMPRESS_BYTE_COUNT	1377947
+SHUFFLE	COPY_MAP_DATA	208736000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5549898
+SHUFFLE	COMPRESS_BYTE_COUNT	1729181
+SHUFFLE	COPY_MAP_DATA	83451000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5591003
+SHUFFLE	COMPRESS_BYTE_COUNT	1725777
+SHUFFLE	COPY_MAP_DATA	309146000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4482692
+SHUFFLE	COMPRESS_BYTE_COUNT	1393816
+SHUFFLE	COPY_MAP_DATA	67320000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5511971
+SHUFFLE	COMPRESS_BYTE_COUNT	1747216
+SHUFFLE	COPY_MAP_DATA	84348000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5590573
+SHUFFLE	COMPRESS_BYTE_COUNT	1726616
+SHUFFLE	COPY_MAP_DATA	136217000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1737910
+SHUFFLE	COMPRESS_BYTE_COUNT	537106
+SHUFFLE	COPY_MAP_DATA	150294000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5564351
+SHUFFLE	COMPRESS_BYTE_COUNT	1733791
+SHUFFLE	COPY_MAP_DATA	207097000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5596681
+SHUFFLE	COMPRESS_BYTE_COUNT	1727364
+SHUFFLE	COPY_MAP_DATA	201368000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5586527
+SHUFFLE	COMPRESS_BYTE_COUNT	1725151
+SHUFFLE	COPY_MAP_DATA	638427000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1739667
+SHUFFLE	COMPRESS_BYTE_COUNT	537660
+SHUFFLE	COPY_MAP_DATA	48534000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4738571
+SHUFFLE	COMPRESS_BYTE_COUNT	1454626
+SHUFFLE	COPY_MAP_DATA	94438000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4749732
+SHUFFLE	COMPRESS_BYTE_COUNT	1458020
+SHUFFLE	COPY_MAP_DATA	77038000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5548429
+SHUFFLE	COMPRESS_BYTE_COUNT	1727076
+SHUFFLE	COPY_MAP_DATA	87252000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4492659
+SHUFFLE	COMPRESS_BYTE_COUNT	1397275
+SHUFFLE	COPY_MAP_DATA	79950000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4747733
+SHUFFLE	COMPRESS_BYTE_COUNT	1457539
+SHUFFLE	COPY_MAP_DATA	85816000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4489807
+SHUFFLE	COMPRESS_BYTE_COUNT	1395920
+SHUFFLE	COPY_MAP_DATA	68523000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4426730
+SHUFFLE	COMPRESS_BYTE_COUNT	1375849
+SHUFFLE	COPY_MAP_DATA	263730000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1740631
+SHUFFLE	COMPRESS_BYTE_COUNT	538650
+SHUFFLE	COPY_MAP_DATA	689212000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5551562
+SHUFFLE	COMPRESS_BYTE_COUNT	1729183
+SHUFFLE	COPY_MAP_DATA	81969000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1735114
+SHUFFLE	COMPRESS_BYTE_COUNT	535745
+SHUFFLE	COPY_MAP_DATA	607956000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1668302
+SHUFFLE	COMPRESS_BYTE_COUNT	520645
+SHUFFLE	COPY_MAP_DATA	653196000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4745547
+SHUFFLE	COMPRESS_BYTE_COUNT	1456904
+SHUFFLE	COPY_MAP_DATA	1086055000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4462513
+SHUFFLE	COMPRESS_BYTE_COUNT	1386481
+SHUFFLE	COPY_MAP_DATA	105231000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4422012
+SHUFFLE	COMPRESS_BYTE_COUNT	1374723
+SHUFFLE	COPY_MAP_DATA	74884000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5554811
+SHUFFLE	COMPRESS_BYTE_COUNT	1730927
+SHUFFLE	COPY_MAP_DATA	732625000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4765405
+SHUFFLE	COMPRESS_BYTE_COUNT	1462611
+SHUFFLE	COPY_MAP_DATA	114127000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1664133
+SHUFFLE	COMPRESS_BYTE_COUNT	519217
+SHUFFLE	COPY_MAP_DATA	755949000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5570640
+SHUFFLE	COMPRESS_BYTE_COUNT	1735434
+SHUFFLE	COPY_MAP_DATA	134839000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1744501
+SHUFFLE	COMPRESS_BYTE_COUNT	539592
+SHUFFLE	COPY_MAP_DATA	27879000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1739389
+SHUFFLE	COMPRESS_BYTE_COUNT	537936
+SHUFFLE	COPY_MAP_DATA	261964000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1738099
+SHUFFLE	COMPRESS_BYTE_COUNT	538036
+SHUFFLE	COPY_MAP_DATA	32177000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1737566
+SHUFFLE	COMPRESS_BYTE_COUNT	537133
+SHUFFLE	COPY_MAP_DATA	207613000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4770082
+SHUFFLE	COMPRESS_BYTE_COUNT	1463730
+SHUFFLE	COPY_MAP_DATA	96680000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4763373
+SHUFFLE	COMPRESS_BYTE_COUNT	1462453
+SHUFFLE	COPY_MAP_DATA	177494000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4759943
+SHUFFLE	COMPRESS_BYTE_COUNT	1461090
+SHUFFLE	COPY_MAP_DATA	171516000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1744123
+SHUFFLE	COMPRESS_BYTE_COUNT	539176
+SHUFFLE	COPY_MAP_DATA	63598000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4708740
+SHUFFLE	COMPRESS_BYTE_COUNT	1445610
+SHUFFLE	COPY_MAP_DATA	201251000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4479187
+SHUFFLE	COMPRESS_BYTE_COUNT	1392673
+SHUFFLE	COPY_MAP_DATA	279545000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4121015
+SHUFFLE	COMPRESS_BYTE_COUNT	1298200
+SHUFFLE	COPY_MAP_DATA	90733000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1735311
+SHUFFLE	COMPRESS_BYTE_COUNT	536541
+SHUFFLE	COPY_MAP_DATA	172396000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1665237
+SHUFFLE	COMPRESS_BYTE_COUNT	519722
+SHUFFLE	COPY_MAP_DATA	27581000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4296375
+SHUFFLE	COMPRESS_BYTE_COUNT	1334644
+SHUFFLE	COPY_MAP_DATA	84258000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4470307
+SHUFFLE	COMPRESS_BYTE_COUNT	1389651
+SHUFFLE	COPY_MAP_DATA	66818000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1664289
+SHUFFLE	COMPRESS_BYTE_COUNT	519446
+SHUFFLE	COPY_MAP_DATA	82741000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1666912
+SHUFFLE	COMPRESS_BYTE_COUNT	520470
+SHUFFLE	COPY_MAP_DATA	43780000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1736417
+SHUFFLE	COMPRESS_BYTE_COUNT	536594
+SHUFFLE	COPY_MAP_DATA	27224000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1739824
+SHUFFLE	COMPRESS_BYTE_COUNT	538164
+SHUFFLE	COPY_MAP_DATA	47436000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1623880
+SHUFFLE	COMPRESS_BYTE_COUNT	506307
+SHUFFLE	COPY_MAP_DATA	26634000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1660924
+SHUFFLE	COMPRESS_BYTE_COUNT	518335
+SHUFFLE	COPY_MAP_DATA	27733000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1660479
+SHUFFLE	COMPRESS_BYTE_COUNT	517966
+SHUFFLE	COPY_MAP_DATA	27325000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1663582
+SHUFFLE	COMPRESS_BYTE_COUNT	519550
+SHUFFLE	COPY_MAP_DATA	27074000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1741552
+SHUFFLE	COMPRESS_BYTE_COUNT	538700
+SHUFFLE	COPY_MAP_DATA	49171000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1663807
+SHUFFLE	COMPRESS_BYTE_COUNT	519482
+SHUFFLE	COPY_MAP_DATA	29459000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1665049
+SHUFFLE	COMPRESS_BYTE_COUNT	519875
+SHUFFLE	COPY_MAP_DATA	28758000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1702740
+SHUFFLE	COMPRESS_BYTE_COUNT	526646
+SHUFFLE	COPY_MAP_DATA	29497000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4410695
+SHUFFLE	COMPRESS_BYTE_COUNT	1370992
+SHUFFLE	COPY_MAP_DATA	70714000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4730312
+SHUFFLE	COMPRESS_BYTE_COUNT	1452859
+SHUFFLE	COPY_MAP_DATA	595065000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1670496
+SHUFFLE	COMPRESS_BYTE_COUNT	520421
+SHUFFLE	COPY_MAP_DATA	103785000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1665710
+SHUFFLE	COMPRESS_BYTE_COUNT	519218
+SHUFFLE	COPY_MAP_DATA	369751000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1663354
+SHUFFLE	COMPRESS_BYTE_COUNT	519117
+SHUFFLE	COPY_MAP_DATA	276775000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1659893
+SHUFFLE	COMPRESS_BYTE_COUNT	518085
+SHUFFLE	COPY_MAP_DATA	37515000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4469907
+SHUFFLE	COMPRESS_BYTE_COUNT	1388881
+SHUFFLE	COPY_MAP_DATA	232522000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1579203
+SHUFFLE	COMPRESS_BYTE_COUNT	498051
+SHUFFLE	COPY_MAP_DATA	35330000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4574840
+SHUFFLE	COMPRESS_BYTE_COUNT	1404681
+SHUFFLE	COPY_MAP_DATA	116877000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4485285
+SHUFFLE	COMPRESS_BYTE_COUNT	1395421
+SHUFFLE	COPY_MAP_DATA	105737000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	329078904000
+MERGE	READ_WRITE	320746533000
+MERGE	READ_WRITE_COUNT	8
+MERGE	COMBINE	0
+MERGE	WRITE	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	8562041000
+SORT	READ_WRITE	8377868000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	182020744
+REDUCE	SETUP	370000
+REDUCE	SETUP_MEM	182020744
+REDUCE	CLEANUP	44000
+REDUCE	CLEANUP_MEM	175562920
+REDUCE	TOTAL_RUN	582660666000
+REDUCE	READ	12829922000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	560105264000
+REDUCE	WRITE	345413513000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	55831087
+REDUCE	VALUE_BYTE_COUNT	1646272321
+REDUCE	REDUCE_MEM	175564968
+REDUCE	WRITE	299286000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	1282587710011
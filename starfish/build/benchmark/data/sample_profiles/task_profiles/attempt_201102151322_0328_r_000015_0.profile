@@ -0,0 +1,989 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5508842
+SHUFFLE	COMPRESS_BYTE_COUNT	1733848
+SHUFFLE	COPY_MAP_DATA	128801000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5438778
+SHUFFLE	COMPRESS_BYTE_COUNT	1711727
+SHUFFLE	COPY_MAP_DATA	148735000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5544738
+SHUFFLE	COMPRESS_BYTE_COUNT	1723200
+SHUFFLE	COPY_MAP_DATA	132140000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5482513
+SHUFFLE	COMPRESS_BYTE_COUNT	1703611
+SHUFFLE	COPY_MAP_DATA	110934000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5521610
+SHUFFLE	COMPRESS_BYTE_COUNT	1715716
+SHUFFLE	COPY_MAP_DATA	131977000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5563177
+SHUFFLE	COMPRESS_BYTE_COUNT	1728704
+SHUFFLE	COPY_MAP_DATA	167636000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5574416
+SHUFFLE	COMPRESS_BYTE_COUNT	1732667
+SHUFFLE	COPY_MAP_DATA	432686000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5550782
+SHUFFLE	COMPRESS_BYTE_COUNT	1724273
+SHUFFLE	COPY_MAP_DATA	85019000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5548286
+SHUFFLE	COMPRESS_BYTE_COUNT	1724608
+SHUFFLE	COPY_MAP_DATA	149083000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5587324
+SHUFFLE	COMPRESS_BYTE_COUNT	1736210
+SHUFFLE	COPY_MAP_DATA	149687000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5543321
+SHUFFLE	COMPRESS_BYTE_COUNT	1721795
+SHUFFLE	COPY_MAP_DATA	151960000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5522439
+SHUFFLE	COMPRESS_BYTE_COUNT	1715931
+SHUFFLE	COPY_MAP_DATA	94217000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5501927
+SHUFFLE	COMPRESS_BYTE_COUNT	1710185
+SHUFFLE	COPY_MAP_DATA	98336000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5550632
+SHUFFLE	COMPRESS_BYTE_COUNT	1724154
+SHUFFLE	COPY_MAP_DATA	127609000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5450881
+SHUFFLE	COMPRESS_BYTE_COUNT	1694657
+SHUFFLE	COPY_MAP_DATA	96689000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5493654
+SHUFFLE	COMPRESS_BYTE_COUNT	1706708
+SHUFFLE	COPY_MAP_DATA	85412000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5584809
+SHUFFLE	COMPRESS_BYTE_COUNT	1734981
+SHUFFLE	COPY_MAP_DATA	96246000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5507518
+SHUFFLE	COMPRESS_BYTE_COUNT	1712661
+SHUFFLE	COPY_MAP_DATA	87671000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5498999
+SHUFFLE	COMPRESS_BYTE_COUNT	1708121
+SHUFFLE	COPY_MAP_DATA	166939000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5530110
+SHUFFLE	COMPRESS_BYTE_COUNT	1718447
+SHUFFLE	COPY_MAP_DATA	93023000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5554362
+SHUFFLE	COMPRESS_BYTE_COUNT	1705015
+SHUFFLE	COPY_MAP_DATA	132221000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5543287
+SHUFFLE	COMPRESS_BYTE_COUNT	1721711
+SHUFFLE	COPY_MAP_DATA	109263000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5560116
+SHUFFLE	COMPRESS_BYTE_COUNT	1727812
+SHUFFLE	COPY_MAP_DATA	87528000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5360257
+SHUFFLE	COMPRESS_BYTE_COUNT	1688492
+SHUFFLE	COPY_MAP_DATA	88042000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5538567
+SHUFFLE	COMPRESS_BYTE_COUNT	1721592
+SHUFFLE	COPY_MAP_DATA	91619000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5471544
+SHUFFLE	COMPRESS_BYTE_COUNT	1700826
+SHUFFLE	COPY_MAP_DATA	94750000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5569182
+SHUFFLE	COMPRESS_BYTE_COUNT	1730474
+SHUFFLE	COPY_MAP_DATA	555732000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5479610
+SHUFFLE	COMPRESS_BYTE_COUNT	1725741
+SHUFFLE	COPY_MAP_DATA	81275000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5510405
+SHUFFLE	COMPRESS_BYTE_COUNT	1712734
+SHUFFLE	COPY_MAP_DATA	148575000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5431408
+SHUFFLE	COMPRESS_BYTE_COUNT	1736701
+SHUFFLE	COPY_MAP_DATA	111976000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5525977
+SHUFFLE	COMPRESS_BYTE_COUNT	1717316
+SHUFFLE	COPY_MAP_DATA	154124000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5579396
+SHUFFLE	COMPRESS_BYTE_COUNT	1713367
+SHUFFLE	COPY_MAP_DATA	106088000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5545951
+SHUFFLE	COMPRESS_BYTE_COUNT	1724173
+SHUFFLE	COPY_MAP_DATA	87320000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5602711
+SHUFFLE	COMPRESS_BYTE_COUNT	1719147
+SHUFFLE	COPY_MAP_DATA	102007000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5588550
+SHUFFLE	COMPRESS_BYTE_COUNT	1715489
+SHUFFLE	COPY_MAP_DATA	239953000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5515015
+SHUFFLE	COMPRESS_BYTE_COUNT	1691738
+SHUFFLE	COPY_MAP_DATA	107489000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5498707
+SHUFFLE	COMPRESS_BYTE_COUNT	1689453
+SHUFFLE	COPY_MAP_DATA	83406000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5514995
+SHUFFLE	COMPRESS_BYTE_COUNT	1713173
+SHUFFLE	COPY_MAP_DATA	96334000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5496105
+SHUFFLE	COMPRESS_BYTE_COUNT	1708710
+SHUFFLE	COPY_MAP_DATA	493199000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5511923
+SHUFFLE	COMPRESS_BYTE_COUNT	1712650
+SHUFFLE	COPY_MAP_DATA	142395000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5543328
+SHUFFLE	COMPRESS_BYTE_COUNT	1723074
+SHUFFLE	COPY_MAP_DATA	6260263000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5532211
+SHUFFLE	COMPRESS_BYTE_COUNT	1718877
+SHUFFLE	COPY_MAP_DATA	89878000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5563772
+SHUFFLE	COMPRESS_BYTE_COUNT	1708893
+SHUFFLE	COPY_MAP_DATA	447688000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5512326
+SHUFFLE	COMPRESS_BYTE_COUNT	1712972
+SHUFFLE	COPY_MAP_DATA	361967000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5552356
+SHUFFLE	COMPRESS_BYTE_COUNT	1725183
+SHUFFLE	COPY_MAP_DATA	577728000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5543130
+SHUFFLE	COMPRESS_BYTE_COUNT	1724291
+SHUFFLE	COPY_MAP_DATA	80555000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5451707
+SHUFFLE	COMPRESS_BYTE_COUNT	1717268
+SHUFFLE	COPY_MAP_DATA	131973000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5609551
+SHUFFLE	COMPRESS_BYTE_COUNT	1742655
+SHUFFLE	COPY_MAP_DATA	1332389000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5516795
+SHUFFLE	COMPRESS_BYTE_COUNT	1693543
+SHUFFLE	COPY_MAP_DATA	82150000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5550730
+SHUFFLE	COMPRESS_BYTE_COUNT	1724649
+SHUFFLE	COPY_MAP_DATA	235874000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5498505
+SHUFFLE	COMPRESS_BYTE_COUNT	1708882
+SHUFFLE	COPY_MAP_DATA	4347756000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5574422
+SHUFFLE	COMPRESS_BYTE_COUNT	1710724
+SHUFFLE	COPY_MAP_DATA	303774000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5538284
+SHUFFLE	COMPRESS_BYTE_COUNT	1719831
+SHUFFLE	COPY_MAP_DATA	7006376000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5483251
+SHUFFLE	COMPRESS_BYTE_COUNT	1701294
+SHUFFLE	COPY_MAP_DATA	92155000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5490659
+SHUFFLE	COMPRESS_BYTE_COUNT	1685479
+SHUFFLE	COPY_MAP_DATA	363559000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5574610
+SHUFFLE	COMPRESS_BYTE_COUNT	1711058
+SHUFFLE	COPY_MAP_DATA	485327000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5528597
+SHUFFLE	COMPRESS_BYTE_COUNT	1718497
+SHUFFLE	COPY_MAP_DATA	95917000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5550901
+SHUFFLE	COMPRESS_BYTE_COUNT	1703544
+SHUFFLE	COPY_MAP_DATA	302137000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5597159
+SHUFFLE	COMPRESS_BYTE_COUNT	1718884
+SHUFFLE	COPY_MAP_DATA	216027000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5490611
+SHUFFLE	COMPRESS_BYTE_COUNT	1685601
+SHUFFLE	COPY_MAP_DATA	87267000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5541708
+SHUFFLE	COMPRESS_BYTE_COUNT	1702093
+SHUFFLE	COPY_MAP_DATA	1281966000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5536670
+SHUFFLE	COMPRESS_BYTE_COUNT	1698296
+SHUFFLE	COPY_MAP_DATA	153865000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5460734
+SHUFFLE	COMPRESS_BYTE_COUNT	1720231
+SHUFFLE	COPY_MAP_DATA	171713000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5462827
+SHUFFLE	COMPRESS_BYTE_COUNT	1719288
+SHUFFLE	COPY_MAP_DATA	177040000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5503740
+SHUFFLE	COMPRESS_BYTE_COUNT	1689319
+SHUFFLE	COPY_MAP_DATA	101566000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5589017
+SHUFFLE	COMPRESS_BYTE_COUNT	1716745
+SHUFFLE	COPY_MAP_DATA	962405000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5500616
+SHUFFLE	COMPRESS_BYTE_COUNT	1688317
+SHUFFLE	COPY_MAP_DATA	368362000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5548682
+SHUFFLE	COMPRESS_BYTE_COUNT	1702798
+SHUFFLE	COPY_MAP_DATA	5277007000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5539463
+SHUFFLE	COMPRESS_BYTE_COUNT	1700584
+SHUFFLE	COPY_MAP_DATA	632536000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5596779
+SHUFFLE	COMPRESS_BYTE_COUNT	1718251
+SHUFFLE	COPY_MAP_DATA	738016000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5529799
+SHUFFLE	COMPRESS_BYTE_COUNT	1698143
+SHUFFLE	COPY_MAP_DATA	82307000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5575410
+SHUFFLE	COMPRESS_BYTE_COUNT	1711360
+SHUFFLE	COPY_MAP_DATA	148808000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5548994
+SHUFFLE	COMPRESS_BYTE_COUNT	1703763
+SHUFFLE	COPY_MAP_DATA	993632000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5556737
+SHUFFLE	COMPRESS_BYTE_COUNT	1705167
+SHUFFLE	COPY_MAP_DATA	104575000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5538255
+SHUFFLE	COMPRESS_BYTE_COUNT	1700587
+SHUFFLE	COPY_MAP_DATA	95121000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5464616
+SHUFFLE	COMPRESS_BYTE_COUNT	1715229
+SHUFFLE	COPY_MAP_DATA	3565775000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5530753
+SHUFFLE	COMPRESS_BYTE_COUNT	1697226
+SHUFFLE	COPY_MAP_DATA	1329076000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5545963
+SHUFFLE	COMPRESS_BYTE_COUNT	1702624
+SHUFFLE	COPY_MAP_DATA	176168000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5533721
+SHUFFLE	COMPRESS_BYTE_COUNT	1699220
+SHUFFLE	COPY_MAP_DATA	5829278000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5527462
+SHUFFLE	COMPRESS_BYTE_COUNT	1697880
+SHUFFLE	COPY_MAP_DATA	516815000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5582145
+SHUFFLE	COMPRESS_BYTE_COUNT	1714703
+SHUFFLE	COPY_MAP_DATA	966485000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5570256
+SHUFFLE	COMPRESS_BYTE_COUNT	1709174
+SHUFFLE	COPY_MAP_DATA	337265000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5587208
+SHUFFLE	COMPRESS_BYTE_COUNT	1714863
+SHUFFLE	COPY_MAP_DATA	98527000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5535224
+SHUFFLE	COMPRESS_BYTE_COUNT	1698531
+SHUFFLE	COPY_MAP_DATA	81434000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5617108
+SHUFFLE	COMPRESS_BYTE_COUNT	1722837
+SHUFFLE	COPY_MAP_DATA	2504062000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5612462
+SHUFFLE	COMPRESS_BYTE_COUNT	1720941
+SHUFFLE	COPY_MAP_DATA	5090977000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5512444
+SHUFFLE	COMPRESS_BYTE_COUNT	1691332
+SHUFFLE	COPY_MAP_DATA	293088000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5515916
+SHUFFLE	COMPRESS_BYTE_COUNT	1692108
+SHUFFLE	COPY_MAP_DATA	322434000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5610988
+SHUFFLE	COMPRESS_BYTE_COUNT	1720948
+SHUFFLE	COPY_MAP_DATA	296375000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5557244
+SHUFFLE	COMPRESS_BYTE_COUNT	1705656
+SHUFFLE	COPY_MAP_DATA	92493000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5583228
+SHUFFLE	COMPRESS_BYTE_COUNT	1712400
+SHUFFLE	COPY_MAP_DATA	492670000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5592015
+SHUFFLE	COMPRESS_BYTE_COUNT	1717620
+SHUFFLE	COPY_MAP_DATA	86773000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5549905
+SHUFFLE	COMPRESS_BYTE_COUNT	1703076
+SHUFFLE	COPY_MAP_DATA	90733000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5601283
+SHUFFLE	COMPRESS_BYTE_COUNT	1719654
+SHUFFLE	COPY_MAP_DATA	99638000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5545238
+SHUFFLE	COMPRESS_BYTE_COUNT	1702873
+SHUFFLE	COPY_MAP_DATA	92920000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5566376
+SHUFFLE	COMPRESS_BYTE_COUNT	1708348
+SHUFFLE	COPY_MAP_DATA	142497000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5450583
+SHUFFLE	COMPRESS_BYTE_COUNT	1694208
+SHUFFLE	COPY_MAP_DATA	85853000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5506780
+SHUFFLE	COMPRESS_BYTE_COUNT	1710817
+SHUFFLE	COPY_MAP_DATA	113675000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5554231
+SHUFFLE	COMPRESS_BYTE_COUNT	1704448
+SHUFFLE	COPY_MAP_DATA	133633000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5517817
+SHUFFLE	COMPRESS_BYTE_COUNT	1714725
+SHUFFLE	COPY_MAP_DATA	213193000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5506515
+SHUFFLE	COMPRESS_BYTE_COUNT	1691008
+SHUFFLE	COPY_MAP_DATA	114568000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5492108
+SHUFFLE	COMPRESS_BYTE_COUNT	1686600
+SHUFFLE	COPY_MAP_DATA	1031836000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5512912
+SHUFFLE	COMPRESS_BYTE_COUNT	1692997
+SHUFFLE	COPY_MAP_DATA	4725612000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5551341
+SHUFFLE	COMPRESS_BYTE_COUNT	1702832
+SHUFFLE	COPY_MAP_DATA	12201352000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5588868
+SHUFFLE	COMPRESS_BYTE_COUNT	1714656
+SHUFFLE	COPY_MAP_DATA	321485000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5549674
+SHUFFLE	COMPRESS_BYTE_COUNT	1704057
+SHUFFLE	COPY_MAP_DATA	92333000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5494311
+SHUFFLE	COMPRESS_BYTE_COUNT	1708174
+SHUFFLE	COPY_MAP_DATA	540890000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5564650
+SHUFFLE	COMPRESS_BYTE_COUNT	1708377
+SHUFFLE	COPY_MAP_DATA	887878000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5510198
+SHUFFLE	COMPRESS_BYTE_COUNT	1691663
+SHUFFLE	COPY_MAP_DATA	1669239000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5527930
+SHUFFLE	COMPRESS_BYTE_COUNT	1697188
+SHUFFLE	COPY_MAP_DATA	299505000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5560714
+SHUFFLE	COMPRESS_BYTE_COUNT	1706881
+SHUFFLE	COPY_MAP_DATA	3434547000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5531916
+SHUFFLE	COMPRESS_BYTE_COUNT	1698477
+SHUFFLE	COPY_MAP_DATA	114667000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5509628
+SHUFFLE	COMPRESS_BYTE_COUNT	1691808
+SHUFFLE	COPY_MAP_DATA	233569000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5509756
+SHUFFLE	COMPRESS_BYTE_COUNT	1690547
+SHUFFLE	COPY_MAP_DATA	106697000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5508869
+SHUFFLE	COMPRESS_BYTE_COUNT	1690832
+SHUFFLE	COPY_MAP_DATA	664971000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5514689
+SHUFFLE	COMPRESS_BYTE_COUNT	1692687
+SHUFFLE	COPY_MAP_DATA	102808000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5532728
+SHUFFLE	COMPRESS_BYTE_COUNT	1718476
+SHUFFLE	COPY_MAP_DATA	1658131000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5555917
+SHUFFLE	COMPRESS_BYTE_COUNT	1727194
+SHUFFLE	COPY_MAP_DATA	180990000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5531069
+SHUFFLE	COMPRESS_BYTE_COUNT	1718571
+SHUFFLE	COPY_MAP_DATA	82702000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5524418
+SHUFFLE	COMPRESS_BYTE_COUNT	1716944
+SHUFFLE	COPY_MAP_DATA	2490798000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5543120
+SHUFFLE	COMPRESS_BYTE_COUNT	1701516
+SHUFFLE	COPY_MAP_DATA	3689041000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5491366
+SHUFFLE	COMPRESS_BYTE_COUNT	1706026
+SHUFFLE	COPY_MAP_DATA	121024000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5543476
+SHUFFLE	COMPRESS_BYTE_COUNT	1722205
+SHUFFLE	COPY_MAP_DATA	198134000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5540363
+SHUFFLE	COMPRESS_BYTE_COUNT	1721341
+SHUFFLE	COPY_MAP_DATA	399130000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5507883
+SHUFFLE	COMPRESS_BYTE_COUNT	1712493
+SHUFFLE	COPY_MAP_DATA	138322000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5520832
+SHUFFLE	COMPRESS_BYTE_COUNT	1715625
+SHUFFLE	COPY_MAP_DATA	82109000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5517731
+SHUFFLE	COMPRESS_BYTE_COUNT	1715284
+SHUFFLE	COPY_MAP_DATA	136896000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5596246
+SHUFFLE	COMPRESS_BYTE_COUNT	1738330
+SHUFFLE	COPY_MAP_DATA	675066000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5521559
+SHUFFLE	COMPRESS_BYTE_COUNT	1715084
+SHUFFLE	COPY_MAP_DATA	324659000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5515867
+SHUFFLE	COMPRESS_BYTE_COUNT	1715756
+SHUFFLE	COPY_MAP_DATA	171003000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5569758
+SHUFFLE	COMPRESS_BYTE_COUNT	1709086
+SHUFFLE	COPY_MAP_DATA	93913000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5479040
+SHUFFLE	COMPRESS_BYTE_COUNT	1683695
+SHUFFLE	COPY_MAP_DATA	712207000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5532914
+SHUFFLE	COMPRESS_BYTE_COUNT	1719502
+SHUFFLE	COPY_MAP_DATA	872715000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5545362
+SHUFFLE	COMPRESS_BYTE_COUNT	1723262
+SHUFFLE	COPY_MAP_DATA	415976000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5509169
+SHUFFLE	COMPRESS_BYTE_COUNT	1712717
+SHUFFLE	COPY_MAP_DATA	86211000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5506286
+SHUFFLE	COMPRESS_BYTE_COUNT	1711526
+SHUFFLE	COPY_MAP_DATA	106636000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5549821
+SHUFFLE	COMPRESS_BYTE_COUNT	1724642
+SHUFFLE	COPY_MAP_DATA	3558236000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5479305
+SHUFFLE	COMPRESS_BYTE_COUNT	1703247
+SHUFFLE	COPY_MAP_DATA	253933000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5540928
+SHUFFLE	COMPRESS_BYTE_COUNT	1720627
+SHUFFLE	COPY_MAP_DATA	7878436000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5533584
+SHUFFLE	COMPRESS_BYTE_COUNT	1719967
+SHUFFLE	COPY_MAP_DATA	88025000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5505879
+SHUFFLE	COMPRESS_BYTE_COUNT	1711473
+SHUFFLE	COPY_MAP_DATA	146590000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5499384
+SHUFFLE	COMPRESS_BYTE_COUNT	1710238
+SHUFFLE	COPY_MAP_DATA	84767000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5549520
+SHUFFLE	COMPRESS_BYTE_COUNT	1723750
+SHUFFLE	COPY_MAP_DATA	1768154000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5545822
+SHUFFLE	COMPRESS_BYTE_COUNT	1723898
+SHUFFLE	COPY_MAP_DATA	251551000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5516750
+SHUFFLE	COMPRESS_BYTE_COUNT	1714035
+SHUFFLE	COPY_MAP_DATA	91691000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5498163
+SHUFFLE	COMPRESS_BYTE_COUNT	1707996
+SHUFFLE	COPY_MAP_DATA	966970000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5493060
+SHUFFLE	COMPRESS_BYTE_COUNT	1706037
+SHUFFLE	COPY_MAP_DATA	279013000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5566557
+SHUFFLE	COMPRESS_BYTE_COUNT	1734040
+SHUFFLE	COPY_MAP_DATA	123602000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5547358
+SHUFFLE	COMPRESS_BYTE_COUNT	1727455
+SHUFFLE	COPY_MAP_DATA	455124000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5561116
+SHUFFLE	COMPRESS_BYTE_COUNT	1729183
+SHUFFLE	COPY_MAP_DATA	107181000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5561796
+SHUFFLE	COMPRESS_BYTE_COUNT	1731901
+SHUFFLE	COPY_MAP_DATA	86141000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5580621
+SHUFFLE	COMPRESS_BYTE_COUNT	1724174
+SHUFFLE	COPY_MAP_DATA	87417000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5539644
+SHUFFLE	COMPRESS_BYTE_COUNT	1721354
+SHUFFLE	COPY_MAP_DATA	392934000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5573672
+SHUFFLE	COMPRESS_BYTE_COUNT	1735481
+SHUFFLE	COPY_MAP_DATA	478674000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5597593
+SHUFFLE	COMPRESS_BYTE_COUNT	1726815
+SHUFFLE	COPY_MAP_DATA	95885000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5545458
+SHUFFLE	COMPRESS_BYTE_COUNT	1727638
+SHUFFLE	COPY_MAP_DATA	107850000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5581867
+SHUFFLE	COMPRESS_BYTE_COUNT	1723055
+SHUFFLE	COPY_MAP_DATA	86074000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5562921
+SHUFFLE	COMPRESS_BYTE_COUNT	1732708
+SHUFFLE	COPY_MAP_DATA	241849000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5581993
+SHUFFLE	COMPRESS_BYTE_COUNT	1722795
+SHUFFLE	COPY_MAP_DATA	81307000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5483665
+SHUFFLE	COMPRESS_BYTE_COUNT	1705253
+SHUFFLE	COPY_MAP_DATA	81188000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5508575
+SHUFFLE	COMPRESS_BYTE_COUNT	1713621
+SHUFFLE	COPY_MAP_DATA	85568000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4771967
+SHUFFLE	COMPRESS_BYTE_COUNT	1465716
+SHUFFLE	COPY_MAP_DATA	548670000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5554254
+SHUFFLE	COMPRESS_BYTE_COUNT	1730104
+SHUFFLE	COPY_MAP_DATA	365265000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5588242
+SHUFFLE	COMPRESS_BYTE_COUNT	1726138
+SHUFFLE	COPY_MAP_DATA	783154000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4712471
+SHUFFLE	COMPRESS_BYTE_COUNT	1446125
+SHUFFLE	COPY_MAP_DATA	88647000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4457588
+SHUFFLE	COMPRESS_BYTE_COUNT	1386129
+SHUFFLE	COPY_MAP_DATA	69654000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4477611
+SHUFFLE	COMPRESS_BYTE_COUNT	1392530
+SHUFFLE	COPY_MAP_DATA	108336000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5600672
+SHUFFLE	COMPRESS_BYTE_COUNT	1728858
+SHUFFLE	COPY_MAP_DATA	97593000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4774824
+SHUFFLE	COMPRESS_BYTE_COUNT	1465528
+SHUFFLE	COPY_MAP_DATA	300729000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5597566
+SHUFFLE	COMPRESS_BYTE_COUNT	1727968
+SHUFFLE	COPY_MAP_DATA	355545000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5545319
+SHUFFLE	COMPRESS_BYTE_COUNT	1728540
+SHUFFLE	COPY_MAP_DATA	86889000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5520113
+SHUFFLE	COMPRESS_BYTE_COUNT	1737202
+SHUFFLE	COPY_MAP_DATA	1279126000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5583101
+SHUFFLE	COMPRESS_BYTE_COUNT	1722297
+SHUFFLE	COPY_MAP_DATA	187865000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5593432
+SHUFFLE	COMPRESS_BYTE_COUNT	1727212
+SHUFFLE	COPY_MAP_DATA	85497000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5558560
+SHUFFLE	COMPRESS_BYTE_COUNT	1731269
+SHUFFLE	COPY_MAP_DATA	669064000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4473053
+SHUFFLE	COMPRESS_BYTE_COUNT	1389307
+SHUFFLE	COPY_MAP_DATA	80170000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5599326
+SHUFFLE	COMPRESS_BYTE_COUNT	1728682
+SHUFFLE	COPY_MAP_DATA	86299000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1736180
+SHUFFLE	COMPRESS_BYTE_COUNT	537353
+SHUFFLE	COPY_MAP_DATA	35023000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4429945
+SHUFFLE	COMPRESS_BYTE_COUNT	1377795
+SHUFFLE	COPY_MAP_DATA	85917000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5501892
+SHUFFLE	COMPRESS_BYTE_COUNT	1745999
+SHUFFLE	COPY_MAP_DATA	87931000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5592216
+SHUFFLE	COMPRESS_BYTE_COUNT	1726736
+SHUFFLE	COPY_MAP_DATA	123864000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5571750
+SHUFFLE	COMPRESS_BYTE_COUNT	1736118
+SHUFFLE	COPY_MAP_DATA	114212000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5591821
+SHUFFLE	COMPRESS_BYTE_COUNT	1726042
+SHUFFLE	COPY_MAP_DATA	298525000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5583515
+SHUFFLE	COMPRESS_BYTE_COUNT	1723470
+SHUFFLE	COPY_MAP_DATA	82828000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1739788
+SHUFFLE	COMPRESS_BYTE_COUNT	538278
+SHUFFLE	COPY_MAP_DATA	29471000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4721147
+SHUFFLE	COMPRESS_BYTE_COUNT	1449669
+SHUFFLE	COPY_MAP_DATA	2275466000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4417797
+SHUFFLE	COMPRESS_BYTE_COUNT	1373976
+SHUFFLE	COPY_MAP_DATA	133531000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4396768
+SHUFFLE	COMPRESS_BYTE_COUNT	1365584
+SHUFFLE	COPY_MAP_DATA	79774000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4745510
+SHUFFLE	COMPRESS_BYTE_COUNT	1457223
+SHUFFLE	COPY_MAP_DATA	73371000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4754663
+SHUFFLE	COMPRESS_BYTE_COUNT	1458909
+SHUFFLE	COPY_MAP_DATA	73776000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5550759
+SHUFFLE	COMPRESS_BYTE_COUNT	1729017
+SHUFFLE	COPY_MAP_DATA	97732000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4424697
+SHUFFLE	COMPRESS_BYTE_COUNT	1375038
+SHUFFLE	COPY_MAP_DATA	80368000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1737662
+SHUFFLE	COMPRESS_BYTE_COUNT	537052
+SHUFFLE	COPY_MAP_DATA	28480000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1663582
+SHUFFLE	COMPRESS_BYTE_COUNT	519561
+SHUFFLE	COPY_MAP_DATA	415934000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5551838
+SHUFFLE	COMPRESS_BYTE_COUNT	1729654
+SHUFFLE	COPY_MAP_DATA	106477000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1738605
+SHUFFLE	COMPRESS_BYTE_COUNT	538064
+SHUFFLE	COPY_MAP_DATA	1352141000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4756556
+SHUFFLE	COMPRESS_BYTE_COUNT	1459343
+SHUFFLE	COPY_MAP_DATA	84087000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5548307
+SHUFFLE	COMPRESS_BYTE_COUNT	1729429
+SHUFFLE	COPY_MAP_DATA	94784000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4357653
+SHUFFLE	COMPRESS_BYTE_COUNT	1355026
+SHUFFLE	COPY_MAP_DATA	78988000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4436561
+SHUFFLE	COMPRESS_BYTE_COUNT	1380064
+SHUFFLE	COPY_MAP_DATA	70027000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4770544
+SHUFFLE	COMPRESS_BYTE_COUNT	1464369
+SHUFFLE	COPY_MAP_DATA	179460000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1664582
+SHUFFLE	COMPRESS_BYTE_COUNT	519266
+SHUFFLE	COPY_MAP_DATA	40910000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5570587
+SHUFFLE	COMPRESS_BYTE_COUNT	1736265
+SHUFFLE	COPY_MAP_DATA	133101000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1738585
+SHUFFLE	COMPRESS_BYTE_COUNT	538099
+SHUFFLE	COPY_MAP_DATA	361253000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1743008
+SHUFFLE	COMPRESS_BYTE_COUNT	539297
+SHUFFLE	COPY_MAP_DATA	27170000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1740587
+SHUFFLE	COMPRESS_BYTE_COUNT	537966
+SHUFFLE	COPY_MAP_DATA	26864000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1741643
+SHUFFLE	COMPRESS_BYTE_COUNT	538633
+SHUFFLE	COPY_MAP_DATA	27670000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4128991
+SHUFFLE	COMPRESS_BYTE_COUNT	1300462
+SHUFFLE	COPY_MAP_DATA	982898000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4430814
+SHUFFLE	COMPRESS_BYTE_COUNT	1376571
+SHUFFLE	COPY_MAP_DATA	416405000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1741735
+SHUFFLE	COMPRESS_BYTE_COUNT	537698
+SHUFFLE	COPY_MAP_DATA	30255000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4747471
+SHUFFLE	COMPRESS_BYTE_COUNT	1458662
+SHUFFLE	COPY_MAP_DATA	1133611000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4794588
+SHUFFLE	COMPRESS_BYTE_COUNT	1471516
+SHUFFLE	COPY_MAP_DATA	339571000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4768798
+SHUFFLE	COMPRESS_BYTE_COUNT	1463671
+SHUFFLE	COPY_MAP_DATA	188976000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1737997
+SHUFFLE	COMPRESS_BYTE_COUNT	536987
+SHUFFLE	COPY_MAP_DATA	26587000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4722443
+SHUFFLE	COMPRESS_BYTE_COUNT	1450725
+SHUFFLE	COPY_MAP_DATA	69641000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1666846
+SHUFFLE	COMPRESS_BYTE_COUNT	520126
+SHUFFLE	COPY_MAP_DATA	48251000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4475385
+SHUFFLE	COMPRESS_BYTE_COUNT	1390752
+SHUFFLE	COPY_MAP_DATA	70472000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1661809
+SHUFFLE	COMPRESS_BYTE_COUNT	518902
+SHUFFLE	COPY_MAP_DATA	42317000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1662730
+SHUFFLE	COMPRESS_BYTE_COUNT	518915
+SHUFFLE	COPY_MAP_DATA	27458000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1737551
+SHUFFLE	COMPRESS_BYTE_COUNT	537326
+SHUFFLE	COPY_MAP_DATA	127234000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1744829
+SHUFFLE	COMPRESS_BYTE_COUNT	539006
+SHUFFLE	COPY_MAP_DATA	36300000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4241970
+SHUFFLE	COMPRESS_BYTE_COUNT	1318598
+SHUFFLE	COPY_MAP_DATA	78988000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1663008
+SHUFFLE	COMPRESS_BYTE_COUNT	519175
+SHUFFLE	COPY_MAP_DATA	28912000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1744681
+SHUFFLE	COMPRESS_BYTE_COUNT	539038
+SHUFFLE	COPY_MAP_DATA	29557000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1666444
+SHUFFLE	COMPRESS_BYTE_COUNT	520036
+SHUFFLE	COPY_MAP_DATA	28817000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1703583
+SHUFFLE	COMPRESS_BYTE_COUNT	525935
+SHUFFLE	COPY_MAP_DATA	30118000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1657435
+SHUFFLE	COMPRESS_BYTE_COUNT	517280
+SHUFFLE	COPY_MAP_DATA	29420000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1621209
+SHUFFLE	COMPRESS_BYTE_COUNT	505340
+SHUFFLE	COPY_MAP_DATA	5377200000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1663844
+SHUFFLE	COMPRESS_BYTE_COUNT	519154
+SHUFFLE	COPY_MAP_DATA	39860000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1662161
+SHUFFLE	COMPRESS_BYTE_COUNT	518569
+SHUFFLE	COPY_MAP_DATA	28207000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4391408
+SHUFFLE	COMPRESS_BYTE_COUNT	1365145
+SHUFFLE	COPY_MAP_DATA	3296614000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1666249
+SHUFFLE	COMPRESS_BYTE_COUNT	519867
+SHUFFLE	COPY_MAP_DATA	61618000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4716610
+SHUFFLE	COMPRESS_BYTE_COUNT	1447671
+SHUFFLE	COPY_MAP_DATA	111576000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1660031
+SHUFFLE	COMPRESS_BYTE_COUNT	517937
+SHUFFLE	COPY_MAP_DATA	26459000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4410811
+SHUFFLE	COMPRESS_BYTE_COUNT	1370691
+SHUFFLE	COPY_MAP_DATA	92868000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1662216
+SHUFFLE	COMPRESS_BYTE_COUNT	519019
+SHUFFLE	COPY_MAP_DATA	27412000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1662779
+SHUFFLE	COMPRESS_BYTE_COUNT	519245
+SHUFFLE	COPY_MAP_DATA	26787000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1575474
+SHUFFLE	COMPRESS_BYTE_COUNT	497467
+SHUFFLE	COPY_MAP_DATA	26251000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4523091
+SHUFFLE	COMPRESS_BYTE_COUNT	1388491
+SHUFFLE	COPY_MAP_DATA	80613000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4456422
+SHUFFLE	COMPRESS_BYTE_COUNT	1384656
+SHUFFLE	COPY_MAP_DATA	81875000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	425499330000
+MERGE	READ_WRITE	418702296000
+MERGE	READ_WRITE_COUNT	8
+MERGE	COMBINE	0
+MERGE	WRITE	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	9465242000
+SORT	READ_WRITE	9303201000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	228704232
+REDUCE	SETUP	353000
+REDUCE	SETUP_MEM	228704232
+REDUCE	CLEANUP	39000
+REDUCE	CLEANUP_MEM	197508240
+REDUCE	TOTAL_RUN	531951760000
+REDUCE	READ	15697482000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	506634036000
+REDUCE	WRITE	297485536000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	55910425
+REDUCE	VALUE_BYTE_COUNT	1648579763
+REDUCE	REDUCE_MEM	197510288
+REDUCE	WRITE	399149000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	1227010735490
@@ -0,0 +1,989 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5523332
+SHUFFLE	COMPRESS_BYTE_COUNT	1716243
+SHUFFLE	COPY_MAP_DATA	249085000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5522390
+SHUFFLE	COMPRESS_BYTE_COUNT	1716264
+SHUFFLE	COPY_MAP_DATA	727776000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5481307
+SHUFFLE	COMPRESS_BYTE_COUNT	1703745
+SHUFFLE	COPY_MAP_DATA	131989000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5530974
+SHUFFLE	COMPRESS_BYTE_COUNT	1718990
+SHUFFLE	COPY_MAP_DATA	908621000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5575599
+SHUFFLE	COMPRESS_BYTE_COUNT	1732986
+SHUFFLE	COPY_MAP_DATA	223274000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5573922
+SHUFFLE	COMPRESS_BYTE_COUNT	1732927
+SHUFFLE	COPY_MAP_DATA	97974000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5512086
+SHUFFLE	COMPRESS_BYTE_COUNT	1713891
+SHUFFLE	COPY_MAP_DATA	311738000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5494607
+SHUFFLE	COMPRESS_BYTE_COUNT	1729400
+SHUFFLE	COPY_MAP_DATA	365381000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5466771
+SHUFFLE	COMPRESS_BYTE_COUNT	1699636
+SHUFFLE	COPY_MAP_DATA	270823000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5536908
+SHUFFLE	COMPRESS_BYTE_COUNT	1721042
+SHUFFLE	COPY_MAP_DATA	116689000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5547305
+SHUFFLE	COMPRESS_BYTE_COUNT	1724254
+SHUFFLE	COPY_MAP_DATA	208015000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5557461
+SHUFFLE	COMPRESS_BYTE_COUNT	1725845
+SHUFFLE	COPY_MAP_DATA	210145000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5509338
+SHUFFLE	COMPRESS_BYTE_COUNT	1713268
+SHUFFLE	COPY_MAP_DATA	199633000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5499980
+SHUFFLE	COMPRESS_BYTE_COUNT	1709721
+SHUFFLE	COPY_MAP_DATA	234255000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5474554
+SHUFFLE	COMPRESS_BYTE_COUNT	1722752
+SHUFFLE	COPY_MAP_DATA	221432000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5493789
+SHUFFLE	COMPRESS_BYTE_COUNT	1707384
+SHUFFLE	COPY_MAP_DATA	169538000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5541885
+SHUFFLE	COMPRESS_BYTE_COUNT	1722181
+SHUFFLE	COPY_MAP_DATA	96487000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5571227
+SHUFFLE	COMPRESS_BYTE_COUNT	1731653
+SHUFFLE	COPY_MAP_DATA	107877000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5463516
+SHUFFLE	COMPRESS_BYTE_COUNT	1698098
+SHUFFLE	COPY_MAP_DATA	212902000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5485854
+SHUFFLE	COMPRESS_BYTE_COUNT	1705968
+SHUFFLE	COPY_MAP_DATA	250057000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5549809
+SHUFFLE	COMPRESS_BYTE_COUNT	1724669
+SHUFFLE	COPY_MAP_DATA	89190000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5471865
+SHUFFLE	COMPRESS_BYTE_COUNT	1723173
+SHUFFLE	COPY_MAP_DATA	2070392000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5523324
+SHUFFLE	COMPRESS_BYTE_COUNT	1717051
+SHUFFLE	COPY_MAP_DATA	96076000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5530410
+SHUFFLE	COMPRESS_BYTE_COUNT	1719497
+SHUFFLE	COPY_MAP_DATA	164637000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5526199
+SHUFFLE	COMPRESS_BYTE_COUNT	1716741
+SHUFFLE	COPY_MAP_DATA	212001000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5491707
+SHUFFLE	COMPRESS_BYTE_COUNT	1705443
+SHUFFLE	COPY_MAP_DATA	180918000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5504406
+SHUFFLE	COMPRESS_BYTE_COUNT	1690371
+SHUFFLE	COPY_MAP_DATA	531154000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5509261
+SHUFFLE	COMPRESS_BYTE_COUNT	1712827
+SHUFFLE	COPY_MAP_DATA	558630000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5455683
+SHUFFLE	COMPRESS_BYTE_COUNT	1718500
+SHUFFLE	COPY_MAP_DATA	82522000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5471075
+SHUFFLE	COMPRESS_BYTE_COUNT	1749653
+SHUFFLE	COPY_MAP_DATA	267330000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5530862
+SHUFFLE	COMPRESS_BYTE_COUNT	1698383
+SHUFFLE	COPY_MAP_DATA	901489000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5502477
+SHUFFLE	COMPRESS_BYTE_COUNT	1709157
+SHUFFLE	COPY_MAP_DATA	104094000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5565979
+SHUFFLE	COMPRESS_BYTE_COUNT	1729814
+SHUFFLE	COPY_MAP_DATA	83438000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5525242
+SHUFFLE	COMPRESS_BYTE_COUNT	1696613
+SHUFFLE	COPY_MAP_DATA	222210000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5552709
+SHUFFLE	COMPRESS_BYTE_COUNT	1704929
+SHUFFLE	COPY_MAP_DATA	112156000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5471730
+SHUFFLE	COMPRESS_BYTE_COUNT	1701138
+SHUFFLE	COPY_MAP_DATA	1371948000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5463608
+SHUFFLE	COMPRESS_BYTE_COUNT	1677703
+SHUFFLE	COPY_MAP_DATA	101361000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5584614
+SHUFFLE	COMPRESS_BYTE_COUNT	1735242
+SHUFFLE	COPY_MAP_DATA	103109000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5554340
+SHUFFLE	COMPRESS_BYTE_COUNT	1705439
+SHUFFLE	COPY_MAP_DATA	374667000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5552506
+SHUFFLE	COMPRESS_BYTE_COUNT	1725740
+SHUFFLE	COPY_MAP_DATA	435164000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5507674
+SHUFFLE	COMPRESS_BYTE_COUNT	1711861
+SHUFFLE	COPY_MAP_DATA	4363667000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5492433
+SHUFFLE	COMPRESS_BYTE_COUNT	1707500
+SHUFFLE	COPY_MAP_DATA	88301000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5507008
+SHUFFLE	COMPRESS_BYTE_COUNT	1690245
+SHUFFLE	COPY_MAP_DATA	107999000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5502143
+SHUFFLE	COMPRESS_BYTE_COUNT	1709780
+SHUFFLE	COPY_MAP_DATA	369150000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5545647
+SHUFFLE	COMPRESS_BYTE_COUNT	1722894
+SHUFFLE	COPY_MAP_DATA	1175685000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5538277
+SHUFFLE	COMPRESS_BYTE_COUNT	1722716
+SHUFFLE	COPY_MAP_DATA	132795000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5430090
+SHUFFLE	COMPRESS_BYTE_COUNT	1710366
+SHUFFLE	COPY_MAP_DATA	181945000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5557256
+SHUFFLE	COMPRESS_BYTE_COUNT	1705821
+SHUFFLE	COPY_MAP_DATA	1713254000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5501130
+SHUFFLE	COMPRESS_BYTE_COUNT	1710342
+SHUFFLE	COPY_MAP_DATA	399479000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5505699
+SHUFFLE	COMPRESS_BYTE_COUNT	1689203
+SHUFFLE	COPY_MAP_DATA	10376499000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5574768
+SHUFFLE	COMPRESS_BYTE_COUNT	1732987
+SHUFFLE	COPY_MAP_DATA	99296000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5517926
+SHUFFLE	COMPRESS_BYTE_COUNT	1716028
+SHUFFLE	COPY_MAP_DATA	2672052000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5536902
+SHUFFLE	COMPRESS_BYTE_COUNT	1723042
+SHUFFLE	COPY_MAP_DATA	105839000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5520679
+SHUFFLE	COMPRESS_BYTE_COUNT	1694969
+SHUFFLE	COPY_MAP_DATA	122051000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5559988
+SHUFFLE	COMPRESS_BYTE_COUNT	1706678
+SHUFFLE	COPY_MAP_DATA	2607607000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5506749
+SHUFFLE	COMPRESS_BYTE_COUNT	1709197
+SHUFFLE	COPY_MAP_DATA	86360000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5549805
+SHUFFLE	COMPRESS_BYTE_COUNT	1724363
+SHUFFLE	COPY_MAP_DATA	148000000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5531737
+SHUFFLE	COMPRESS_BYTE_COUNT	1698020
+SHUFFLE	COPY_MAP_DATA	1031708000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5511346
+SHUFFLE	COMPRESS_BYTE_COUNT	1691478
+SHUFFLE	COPY_MAP_DATA	608114000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5569209
+SHUFFLE	COMPRESS_BYTE_COUNT	1707913
+SHUFFLE	COPY_MAP_DATA	98964000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5549222
+SHUFFLE	COMPRESS_BYTE_COUNT	1702891
+SHUFFLE	COPY_MAP_DATA	92275000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5543903
+SHUFFLE	COMPRESS_BYTE_COUNT	1701141
+SHUFFLE	COPY_MAP_DATA	226215000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5441916
+SHUFFLE	COMPRESS_BYTE_COUNT	1713339
+SHUFFLE	COPY_MAP_DATA	81499000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5454280
+SHUFFLE	COMPRESS_BYTE_COUNT	1675617
+SHUFFLE	COPY_MAP_DATA	133424000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5497841
+SHUFFLE	COMPRESS_BYTE_COUNT	1731282
+SHUFFLE	COPY_MAP_DATA	82236000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5529266
+SHUFFLE	COMPRESS_BYTE_COUNT	1697445
+SHUFFLE	COPY_MAP_DATA	81465000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5561575
+SHUFFLE	COMPRESS_BYTE_COUNT	1705580
+SHUFFLE	COPY_MAP_DATA	92971000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5494780
+SHUFFLE	COMPRESS_BYTE_COUNT	1687282
+SHUFFLE	COPY_MAP_DATA	216919000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5544366
+SHUFFLE	COMPRESS_BYTE_COUNT	1703039
+SHUFFLE	COPY_MAP_DATA	617414000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5592812
+SHUFFLE	COMPRESS_BYTE_COUNT	1716203
+SHUFFLE	COPY_MAP_DATA	94932000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5542670
+SHUFFLE	COMPRESS_BYTE_COUNT	1700992
+SHUFFLE	COPY_MAP_DATA	291457000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5550211
+SHUFFLE	COMPRESS_BYTE_COUNT	1703078
+SHUFFLE	COPY_MAP_DATA	112881000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5540798
+SHUFFLE	COMPRESS_BYTE_COUNT	1700502
+SHUFFLE	COPY_MAP_DATA	312824000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5554300
+SHUFFLE	COMPRESS_BYTE_COUNT	1704818
+SHUFFLE	COPY_MAP_DATA	119196000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5582550
+SHUFFLE	COMPRESS_BYTE_COUNT	1712731
+SHUFFLE	COPY_MAP_DATA	260363000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5586356
+SHUFFLE	COMPRESS_BYTE_COUNT	1714169
+SHUFFLE	COPY_MAP_DATA	801870000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5559584
+SHUFFLE	COMPRESS_BYTE_COUNT	1706929
+SHUFFLE	COPY_MAP_DATA	295240000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5545903
+SHUFFLE	COMPRESS_BYTE_COUNT	1701376
+SHUFFLE	COPY_MAP_DATA	91050000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5463910
+SHUFFLE	COMPRESS_BYTE_COUNT	1717086
+SHUFFLE	COPY_MAP_DATA	1283268000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5537825
+SHUFFLE	COMPRESS_BYTE_COUNT	1700290
+SHUFFLE	COPY_MAP_DATA	290023000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5511444
+SHUFFLE	COMPRESS_BYTE_COUNT	1691167
+SHUFFLE	COPY_MAP_DATA	139720000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5595156
+SHUFFLE	COMPRESS_BYTE_COUNT	1716960
+SHUFFLE	COPY_MAP_DATA	202718000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5540095
+SHUFFLE	COMPRESS_BYTE_COUNT	1700721
+SHUFFLE	COPY_MAP_DATA	405812000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5542370
+SHUFFLE	COMPRESS_BYTE_COUNT	1701242
+SHUFFLE	COPY_MAP_DATA	9234919000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5584472
+SHUFFLE	COMPRESS_BYTE_COUNT	1712846
+SHUFFLE	COPY_MAP_DATA	82559000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5513462
+SHUFFLE	COMPRESS_BYTE_COUNT	1693494
+SHUFFLE	COPY_MAP_DATA	202807000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5533699
+SHUFFLE	COMPRESS_BYTE_COUNT	1698248
+SHUFFLE	COPY_MAP_DATA	87214000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5495199
+SHUFFLE	COMPRESS_BYTE_COUNT	1687165
+SHUFFLE	COPY_MAP_DATA	96750000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5609847
+SHUFFLE	COMPRESS_BYTE_COUNT	1721344
+SHUFFLE	COPY_MAP_DATA	92928000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5564372
+SHUFFLE	COMPRESS_BYTE_COUNT	1708858
+SHUFFLE	COPY_MAP_DATA	3517512000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5571377
+SHUFFLE	COMPRESS_BYTE_COUNT	1710228
+SHUFFLE	COPY_MAP_DATA	652595000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5486708
+SHUFFLE	COMPRESS_BYTE_COUNT	1685634
+SHUFFLE	COPY_MAP_DATA	470969000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5478321
+SHUFFLE	COMPRESS_BYTE_COUNT	1682104
+SHUFFLE	COPY_MAP_DATA	91807000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5544691
+SHUFFLE	COMPRESS_BYTE_COUNT	1702104
+SHUFFLE	COPY_MAP_DATA	179783000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5568695
+SHUFFLE	COMPRESS_BYTE_COUNT	1710107
+SHUFFLE	COPY_MAP_DATA	149105000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5543731
+SHUFFLE	COMPRESS_BYTE_COUNT	1701607
+SHUFFLE	COPY_MAP_DATA	282946000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5493090
+SHUFFLE	COMPRESS_BYTE_COUNT	1707807
+SHUFFLE	COPY_MAP_DATA	87906000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5590125
+SHUFFLE	COMPRESS_BYTE_COUNT	1716156
+SHUFFLE	COPY_MAP_DATA	1916545000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5474884
+SHUFFLE	COMPRESS_BYTE_COUNT	1701240
+SHUFFLE	COPY_MAP_DATA	86567000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5527795
+SHUFFLE	COMPRESS_BYTE_COUNT	1696925
+SHUFFLE	COPY_MAP_DATA	271823000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5541876
+SHUFFLE	COMPRESS_BYTE_COUNT	1700905
+SHUFFLE	COPY_MAP_DATA	390052000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5478343
+SHUFFLE	COMPRESS_BYTE_COUNT	1703001
+SHUFFLE	COPY_MAP_DATA	113231000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5582724
+SHUFFLE	COMPRESS_BYTE_COUNT	1713608
+SHUFFLE	COPY_MAP_DATA	94986000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5556203
+SHUFFLE	COMPRESS_BYTE_COUNT	1706641
+SHUFFLE	COPY_MAP_DATA	329275000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5581429
+SHUFFLE	COMPRESS_BYTE_COUNT	1713486
+SHUFFLE	COPY_MAP_DATA	91460000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5570337
+SHUFFLE	COMPRESS_BYTE_COUNT	1709371
+SHUFFLE	COPY_MAP_DATA	6711230000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5496502
+SHUFFLE	COMPRESS_BYTE_COUNT	1707941
+SHUFFLE	COPY_MAP_DATA	96067000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5562269
+SHUFFLE	COMPRESS_BYTE_COUNT	1707270
+SHUFFLE	COPY_MAP_DATA	309034000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5541200
+SHUFFLE	COMPRESS_BYTE_COUNT	1700165
+SHUFFLE	COPY_MAP_DATA	8780655000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5543811
+SHUFFLE	COMPRESS_BYTE_COUNT	1700887
+SHUFFLE	COPY_MAP_DATA	492317000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5569162
+SHUFFLE	COMPRESS_BYTE_COUNT	1710299
+SHUFFLE	COPY_MAP_DATA	177665000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5560063
+SHUFFLE	COMPRESS_BYTE_COUNT	1706600
+SHUFFLE	COPY_MAP_DATA	1331714000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5599573
+SHUFFLE	COMPRESS_BYTE_COUNT	1716799
+SHUFFLE	COPY_MAP_DATA	2495329000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5530438
+SHUFFLE	COMPRESS_BYTE_COUNT	1698221
+SHUFFLE	COPY_MAP_DATA	195717000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5561002
+SHUFFLE	COMPRESS_BYTE_COUNT	1705582
+SHUFFLE	COPY_MAP_DATA	2184446000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5534740
+SHUFFLE	COMPRESS_BYTE_COUNT	1698794
+SHUFFLE	COPY_MAP_DATA	8574105000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5522595
+SHUFFLE	COMPRESS_BYTE_COUNT	1716609
+SHUFFLE	COPY_MAP_DATA	337045000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5579413
+SHUFFLE	COMPRESS_BYTE_COUNT	1734466
+SHUFFLE	COPY_MAP_DATA	302053000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5487286
+SHUFFLE	COMPRESS_BYTE_COUNT	1705204
+SHUFFLE	COPY_MAP_DATA	149356000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5474358
+SHUFFLE	COMPRESS_BYTE_COUNT	1701722
+SHUFFLE	COPY_MAP_DATA	86101000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5516186
+SHUFFLE	COMPRESS_BYTE_COUNT	1715498
+SHUFFLE	COPY_MAP_DATA	140288000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5542455
+SHUFFLE	COMPRESS_BYTE_COUNT	1701439
+SHUFFLE	COPY_MAP_DATA	94029000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5512611
+SHUFFLE	COMPRESS_BYTE_COUNT	1712801
+SHUFFLE	COPY_MAP_DATA	911587000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5545148
+SHUFFLE	COMPRESS_BYTE_COUNT	1724065
+SHUFFLE	COPY_MAP_DATA	106990000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5470286
+SHUFFLE	COMPRESS_BYTE_COUNT	1700149
+SHUFFLE	COPY_MAP_DATA	86121000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5491059
+SHUFFLE	COMPRESS_BYTE_COUNT	1705542
+SHUFFLE	COPY_MAP_DATA	96399000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5520300
+SHUFFLE	COMPRESS_BYTE_COUNT	1715498
+SHUFFLE	COPY_MAP_DATA	85472000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5479590
+SHUFFLE	COMPRESS_BYTE_COUNT	1703013
+SHUFFLE	COPY_MAP_DATA	139818000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5500493
+SHUFFLE	COMPRESS_BYTE_COUNT	1710534
+SHUFFLE	COPY_MAP_DATA	85624000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5501240
+SHUFFLE	COMPRESS_BYTE_COUNT	1709802
+SHUFFLE	COPY_MAP_DATA	212720000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5482086
+SHUFFLE	COMPRESS_BYTE_COUNT	1684679
+SHUFFLE	COPY_MAP_DATA	1564424000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5483231
+SHUFFLE	COMPRESS_BYTE_COUNT	1704104
+SHUFFLE	COPY_MAP_DATA	123144000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5510248
+SHUFFLE	COMPRESS_BYTE_COUNT	1713133
+SHUFFLE	COPY_MAP_DATA	106622000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5537579
+SHUFFLE	COMPRESS_BYTE_COUNT	1699962
+SHUFFLE	COPY_MAP_DATA	277654000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5538008
+SHUFFLE	COMPRESS_BYTE_COUNT	1721039
+SHUFFLE	COPY_MAP_DATA	218742000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5516632
+SHUFFLE	COMPRESS_BYTE_COUNT	1714065
+SHUFFLE	COPY_MAP_DATA	104477000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5516817
+SHUFFLE	COMPRESS_BYTE_COUNT	1714162
+SHUFFLE	COPY_MAP_DATA	123817000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5506751
+SHUFFLE	COMPRESS_BYTE_COUNT	1711117
+SHUFFLE	COPY_MAP_DATA	86456000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5505868
+SHUFFLE	COMPRESS_BYTE_COUNT	1711530
+SHUFFLE	COPY_MAP_DATA	102660000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5515900
+SHUFFLE	COMPRESS_BYTE_COUNT	1714061
+SHUFFLE	COPY_MAP_DATA	91523000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5542039
+SHUFFLE	COMPRESS_BYTE_COUNT	1722047
+SHUFFLE	COPY_MAP_DATA	311950000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5527584
+SHUFFLE	COMPRESS_BYTE_COUNT	1717941
+SHUFFLE	COPY_MAP_DATA	86341000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5539701
+SHUFFLE	COMPRESS_BYTE_COUNT	1722241
+SHUFFLE	COPY_MAP_DATA	101073000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5505145
+SHUFFLE	COMPRESS_BYTE_COUNT	1711642
+SHUFFLE	COPY_MAP_DATA	130551000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5515043
+SHUFFLE	COMPRESS_BYTE_COUNT	1715312
+SHUFFLE	COPY_MAP_DATA	1358974000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5535043
+SHUFFLE	COMPRESS_BYTE_COUNT	1720681
+SHUFFLE	COPY_MAP_DATA	591551000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5519821
+SHUFFLE	COMPRESS_BYTE_COUNT	1716119
+SHUFFLE	COPY_MAP_DATA	102569000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5558394
+SHUFFLE	COMPRESS_BYTE_COUNT	1732233
+SHUFFLE	COPY_MAP_DATA	87042000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5547538
+SHUFFLE	COMPRESS_BYTE_COUNT	1728489
+SHUFFLE	COPY_MAP_DATA	86821000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5554912
+SHUFFLE	COMPRESS_BYTE_COUNT	1728970
+SHUFFLE	COPY_MAP_DATA	88564000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5559912
+SHUFFLE	COMPRESS_BYTE_COUNT	1731529
+SHUFFLE	COPY_MAP_DATA	81554000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5583308
+SHUFFLE	COMPRESS_BYTE_COUNT	1723672
+SHUFFLE	COPY_MAP_DATA	213868000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5541724
+SHUFFLE	COMPRESS_BYTE_COUNT	1721510
+SHUFFLE	COPY_MAP_DATA	185621000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5568823
+SHUFFLE	COMPRESS_BYTE_COUNT	1735773
+SHUFFLE	COPY_MAP_DATA	1774458000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5591886
+SHUFFLE	COMPRESS_BYTE_COUNT	1725967
+SHUFFLE	COPY_MAP_DATA	469285000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5544619
+SHUFFLE	COMPRESS_BYTE_COUNT	1727276
+SHUFFLE	COPY_MAP_DATA	80979000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5583065
+SHUFFLE	COMPRESS_BYTE_COUNT	1723662
+SHUFFLE	COPY_MAP_DATA	478026000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5563072
+SHUFFLE	COMPRESS_BYTE_COUNT	1733665
+SHUFFLE	COPY_MAP_DATA	336810000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5589565
+SHUFFLE	COMPRESS_BYTE_COUNT	1724927
+SHUFFLE	COPY_MAP_DATA	973595000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5532485
+SHUFFLE	COMPRESS_BYTE_COUNT	1718934
+SHUFFLE	COPY_MAP_DATA	88833000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5492233
+SHUFFLE	COMPRESS_BYTE_COUNT	1707192
+SHUFFLE	COPY_MAP_DATA	3245650000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5598004
+SHUFFLE	COMPRESS_BYTE_COUNT	1728019
+SHUFFLE	COPY_MAP_DATA	197495000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4732045
+SHUFFLE	COMPRESS_BYTE_COUNT	1451865
+SHUFFLE	COPY_MAP_DATA	73270000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4749916
+SHUFFLE	COMPRESS_BYTE_COUNT	1458087
+SHUFFLE	COPY_MAP_DATA	181616000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5547030
+SHUFFLE	COMPRESS_BYTE_COUNT	1728463
+SHUFFLE	COPY_MAP_DATA	573752000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4439403
+SHUFFLE	COMPRESS_BYTE_COUNT	1379947
+SHUFFLE	COPY_MAP_DATA	381164000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4495927
+SHUFFLE	COMPRESS_BYTE_COUNT	1397750
+SHUFFLE	COPY_MAP_DATA	1053952000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4765744
+SHUFFLE	COMPRESS_BYTE_COUNT	1463624
+SHUFFLE	COPY_MAP_DATA	327123000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5602999
+SHUFFLE	COMPRESS_BYTE_COUNT	1729971
+SHUFFLE	COPY_MAP_DATA	3669335000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5601744
+SHUFFLE	COMPRESS_BYTE_COUNT	1727822
+SHUFFLE	COPY_MAP_DATA	88001000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5575912
+SHUFFLE	COMPRESS_BYTE_COUNT	1722008
+SHUFFLE	COPY_MAP_DATA	186379000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5521741
+SHUFFLE	COMPRESS_BYTE_COUNT	1736437
+SHUFFLE	COPY_MAP_DATA	1519411000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5551265
+SHUFFLE	COMPRESS_BYTE_COUNT	1729978
+SHUFFLE	COPY_MAP_DATA	102858000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5590339
+SHUFFLE	COMPRESS_BYTE_COUNT	1725811
+SHUFFLE	COPY_MAP_DATA	161852000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5546125
+SHUFFLE	COMPRESS_BYTE_COUNT	1727851
+SHUFFLE	COPY_MAP_DATA	286958000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4390447
+SHUFFLE	COMPRESS_BYTE_COUNT	1365209
+SHUFFLE	COPY_MAP_DATA	69437000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4415540
+SHUFFLE	COMPRESS_BYTE_COUNT	1373586
+SHUFFLE	COPY_MAP_DATA	349206000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5506212
+SHUFFLE	COMPRESS_BYTE_COUNT	1745950
+SHUFFLE	COPY_MAP_DATA	96101000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5601226
+SHUFFLE	COMPRESS_BYTE_COUNT	1729153
+SHUFFLE	COPY_MAP_DATA	135514000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5587173
+SHUFFLE	COMPRESS_BYTE_COUNT	1724510
+SHUFFLE	COPY_MAP_DATA	214166000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1736108
+SHUFFLE	COMPRESS_BYTE_COUNT	536603
+SHUFFLE	COPY_MAP_DATA	140016000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5573430
+SHUFFLE	COMPRESS_BYTE_COUNT	1735961
+SHUFFLE	COPY_MAP_DATA	227768000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5587875
+SHUFFLE	COMPRESS_BYTE_COUNT	1725306
+SHUFFLE	COPY_MAP_DATA	95240000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5590264
+SHUFFLE	COMPRESS_BYTE_COUNT	1725591
+SHUFFLE	COPY_MAP_DATA	5264127000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1743024
+SHUFFLE	COMPRESS_BYTE_COUNT	538604
+SHUFFLE	COPY_MAP_DATA	77926000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4709961
+SHUFFLE	COMPRESS_BYTE_COUNT	1445497
+SHUFFLE	COPY_MAP_DATA	73155000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4463900
+SHUFFLE	COMPRESS_BYTE_COUNT	1386573
+SHUFFLE	COPY_MAP_DATA	84348000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4747992
+SHUFFLE	COMPRESS_BYTE_COUNT	1457092
+SHUFFLE	COPY_MAP_DATA	213851000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4723827
+SHUFFLE	COMPRESS_BYTE_COUNT	1450980
+SHUFFLE	COPY_MAP_DATA	73537000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5550241
+SHUFFLE	COMPRESS_BYTE_COUNT	1728751
+SHUFFLE	COPY_MAP_DATA	86375000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4403880
+SHUFFLE	COMPRESS_BYTE_COUNT	1369307
+SHUFFLE	COPY_MAP_DATA	69699000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4451289
+SHUFFLE	COMPRESS_BYTE_COUNT	1382690
+SHUFFLE	COPY_MAP_DATA	69259000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1743324
+SHUFFLE	COMPRESS_BYTE_COUNT	538972
+SHUFFLE	COPY_MAP_DATA	3231738000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5544856
+SHUFFLE	COMPRESS_BYTE_COUNT	1727597
+SHUFFLE	COPY_MAP_DATA	337769000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1742806
+SHUFFLE	COMPRESS_BYTE_COUNT	538322
+SHUFFLE	COPY_MAP_DATA	1628534000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1668659
+SHUFFLE	COMPRESS_BYTE_COUNT	521058
+SHUFFLE	COPY_MAP_DATA	247759000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4798308
+SHUFFLE	COMPRESS_BYTE_COUNT	1472883
+SHUFFLE	COPY_MAP_DATA	843534000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4486896
+SHUFFLE	COMPRESS_BYTE_COUNT	1394575
+SHUFFLE	COPY_MAP_DATA	81074000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4413435
+SHUFFLE	COMPRESS_BYTE_COUNT	1371061
+SHUFFLE	COPY_MAP_DATA	79736000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5543661
+SHUFFLE	COMPRESS_BYTE_COUNT	1727770
+SHUFFLE	COPY_MAP_DATA	105599000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4783751
+SHUFFLE	COMPRESS_BYTE_COUNT	1468449
+SHUFFLE	COPY_MAP_DATA	84672000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1742874
+SHUFFLE	COMPRESS_BYTE_COUNT	538547
+SHUFFLE	COPY_MAP_DATA	60271000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1666894
+SHUFFLE	COMPRESS_BYTE_COUNT	519915
+SHUFFLE	COPY_MAP_DATA	27384000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1740815
+SHUFFLE	COMPRESS_BYTE_COUNT	538448
+SHUFFLE	COPY_MAP_DATA	30601000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1737472
+SHUFFLE	COMPRESS_BYTE_COUNT	537788
+SHUFFLE	COPY_MAP_DATA	67055000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4733422
+SHUFFLE	COMPRESS_BYTE_COUNT	1453792
+SHUFFLE	COPY_MAP_DATA	1770272000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4779427
+SHUFFLE	COMPRESS_BYTE_COUNT	1468030
+SHUFFLE	COPY_MAP_DATA	315804000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5566578
+SHUFFLE	COMPRESS_BYTE_COUNT	1734874
+SHUFFLE	COPY_MAP_DATA	838701000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4759599
+SHUFFLE	COMPRESS_BYTE_COUNT	1460967
+SHUFFLE	COPY_MAP_DATA	498572000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1743847
+SHUFFLE	COMPRESS_BYTE_COUNT	538928
+SHUFFLE	COPY_MAP_DATA	224456000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1741604
+SHUFFLE	COMPRESS_BYTE_COUNT	537799
+SHUFFLE	COPY_MAP_DATA	345926000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4155560
+SHUFFLE	COMPRESS_BYTE_COUNT	1308596
+SHUFFLE	COPY_MAP_DATA	81077000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4769505
+SHUFFLE	COMPRESS_BYTE_COUNT	1464451
+SHUFFLE	COPY_MAP_DATA	317442000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1737537
+SHUFFLE	COMPRESS_BYTE_COUNT	537360
+SHUFFLE	COPY_MAP_DATA	26601000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4475733
+SHUFFLE	COMPRESS_BYTE_COUNT	1390041
+SHUFFLE	COPY_MAP_DATA	75954000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1662770
+SHUFFLE	COMPRESS_BYTE_COUNT	519668
+SHUFFLE	COPY_MAP_DATA	1914622000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1667871
+SHUFFLE	COMPRESS_BYTE_COUNT	519590
+SHUFFLE	COPY_MAP_DATA	27794000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4400892
+SHUFFLE	COMPRESS_BYTE_COUNT	1368119
+SHUFFLE	COPY_MAP_DATA	83852000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1736185
+SHUFFLE	COMPRESS_BYTE_COUNT	537061
+SHUFFLE	COPY_MAP_DATA	35421000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1661176
+SHUFFLE	COMPRESS_BYTE_COUNT	518353
+SHUFFLE	COPY_MAP_DATA	28837000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1742450
+SHUFFLE	COMPRESS_BYTE_COUNT	538537
+SHUFFLE	COPY_MAP_DATA	56808000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1661836
+SHUFFLE	COMPRESS_BYTE_COUNT	518744
+SHUFFLE	COPY_MAP_DATA	28632000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1656007
+SHUFFLE	COMPRESS_BYTE_COUNT	517552
+SHUFFLE	COPY_MAP_DATA	27892000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1745027
+SHUFFLE	COMPRESS_BYTE_COUNT	539684
+SHUFFLE	COPY_MAP_DATA	29522000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1667401
+SHUFFLE	COMPRESS_BYTE_COUNT	520260
+SHUFFLE	COPY_MAP_DATA	28532000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4241281
+SHUFFLE	COMPRESS_BYTE_COUNT	1318295
+SHUFFLE	COPY_MAP_DATA	97916000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1662653
+SHUFFLE	COMPRESS_BYTE_COUNT	519220
+SHUFFLE	COPY_MAP_DATA	25863000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1662017
+SHUFFLE	COMPRESS_BYTE_COUNT	517962
+SHUFFLE	COPY_MAP_DATA	25872000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1701432
+SHUFFLE	COMPRESS_BYTE_COUNT	526061
+SHUFFLE	COPY_MAP_DATA	42783000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4496084
+SHUFFLE	COMPRESS_BYTE_COUNT	1397334
+SHUFFLE	COPY_MAP_DATA	1962335000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1616806
+SHUFFLE	COMPRESS_BYTE_COUNT	504568
+SHUFFLE	COPY_MAP_DATA	24978000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1660040
+SHUFFLE	COMPRESS_BYTE_COUNT	518810
+SHUFFLE	COPY_MAP_DATA	26332000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4694636
+SHUFFLE	COMPRESS_BYTE_COUNT	1441789
+SHUFFLE	COPY_MAP_DATA	108045000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1667791
+SHUFFLE	COMPRESS_BYTE_COUNT	520280
+SHUFFLE	COPY_MAP_DATA	26236000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1665301
+SHUFFLE	COMPRESS_BYTE_COUNT	519563
+SHUFFLE	COPY_MAP_DATA	199952000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1661293
+SHUFFLE	COMPRESS_BYTE_COUNT	518864
+SHUFFLE	COPY_MAP_DATA	25917000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4402217
+SHUFFLE	COMPRESS_BYTE_COUNT	1369506
+SHUFFLE	COPY_MAP_DATA	66965000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1574824
+SHUFFLE	COMPRESS_BYTE_COUNT	497024
+SHUFFLE	COPY_MAP_DATA	49093000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4566188
+SHUFFLE	COMPRESS_BYTE_COUNT	1401920
+SHUFFLE	COPY_MAP_DATA	104511000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4526021
+SHUFFLE	COMPRESS_BYTE_COUNT	1406417
+SHUFFLE	COPY_MAP_DATA	133164000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	441102639421
+MERGE	READ_WRITE	430207232421
+MERGE	READ_WRITE_COUNT	8
+MERGE	COMBINE	0
+MERGE	WRITE	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	11107369000
+SORT	READ_WRITE	9956485000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	208767456
+REDUCE	SETUP	339000
+REDUCE	SETUP_MEM	208767456
+REDUCE	CLEANUP	34000
+REDUCE	CLEANUP_MEM	147230888
+REDUCE	TOTAL_RUN	541822235294
+REDUCE	READ	12966936000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	519189026294
+REDUCE	WRITE	303725819294
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	55887710
+REDUCE	VALUE_BYTE_COUNT	1647874011
+REDUCE	REDUCE_MEM	147232936
+REDUCE	WRITE	668824000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	1245791761797
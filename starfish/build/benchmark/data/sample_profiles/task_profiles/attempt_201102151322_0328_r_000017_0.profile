@@ -0,0 +1,989 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5519623
+SHUFFLE	COMPRESS_BYTE_COUNT	1715242
+SHUFFLE	COPY_MAP_DATA	785017000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5465780
+SHUFFLE	COMPRESS_BYTE_COUNT	1699038
+SHUFFLE	COPY_MAP_DATA	272222000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5493489
+SHUFFLE	COMPRESS_BYTE_COUNT	1706676
+SHUFFLE	COPY_MAP_DATA	2157122000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5448964
+SHUFFLE	COMPRESS_BYTE_COUNT	1693080
+SHUFFLE	COPY_MAP_DATA	120117000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5512745
+SHUFFLE	COMPRESS_BYTE_COUNT	1711886
+SHUFFLE	COPY_MAP_DATA	168352000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5497890
+SHUFFLE	COMPRESS_BYTE_COUNT	1708943
+SHUFFLE	COPY_MAP_DATA	438843000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5473504
+SHUFFLE	COMPRESS_BYTE_COUNT	1721958
+SHUFFLE	COPY_MAP_DATA	288946000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5514033
+SHUFFLE	COMPRESS_BYTE_COUNT	1713212
+SHUFFLE	COPY_MAP_DATA	294584000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5520397
+SHUFFLE	COMPRESS_BYTE_COUNT	1714650
+SHUFFLE	COPY_MAP_DATA	313422000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5515738
+SHUFFLE	COMPRESS_BYTE_COUNT	1714236
+SHUFFLE	COPY_MAP_DATA	216543000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5527136
+SHUFFLE	COMPRESS_BYTE_COUNT	1718755
+SHUFFLE	COPY_MAP_DATA	113927000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5531829
+SHUFFLE	COMPRESS_BYTE_COUNT	1720101
+SHUFFLE	COPY_MAP_DATA	376710000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5468703
+SHUFFLE	COMPRESS_BYTE_COUNT	1700516
+SHUFFLE	COPY_MAP_DATA	194209000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5503782
+SHUFFLE	COMPRESS_BYTE_COUNT	1710560
+SHUFFLE	COPY_MAP_DATA	375247000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5458140
+SHUFFLE	COMPRESS_BYTE_COUNT	1718946
+SHUFFLE	COPY_MAP_DATA	108659000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5587622
+SHUFFLE	COMPRESS_BYTE_COUNT	1714479
+SHUFFLE	COPY_MAP_DATA	119706000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5556306
+SHUFFLE	COMPRESS_BYTE_COUNT	1727584
+SHUFFLE	COPY_MAP_DATA	168951000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5504373
+SHUFFLE	COMPRESS_BYTE_COUNT	1710543
+SHUFFLE	COPY_MAP_DATA	104929000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5524496
+SHUFFLE	COMPRESS_BYTE_COUNT	1716924
+SHUFFLE	COPY_MAP_DATA	181330000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5415227
+SHUFFLE	COMPRESS_BYTE_COUNT	1706803
+SHUFFLE	COPY_MAP_DATA	108030000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5552098
+SHUFFLE	COMPRESS_BYTE_COUNT	1725881
+SHUFFLE	COPY_MAP_DATA	108165000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5420210
+SHUFFLE	COMPRESS_BYTE_COUNT	1685601
+SHUFFLE	COPY_MAP_DATA	107311000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5470260
+SHUFFLE	COMPRESS_BYTE_COUNT	1700277
+SHUFFLE	COPY_MAP_DATA	158515000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5468932
+SHUFFLE	COMPRESS_BYTE_COUNT	1721802
+SHUFFLE	COPY_MAP_DATA	96526000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5489589
+SHUFFLE	COMPRESS_BYTE_COUNT	1705554
+SHUFFLE	COPY_MAP_DATA	108593000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5547139
+SHUFFLE	COMPRESS_BYTE_COUNT	1723973
+SHUFFLE	COPY_MAP_DATA	610557000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5506330
+SHUFFLE	COMPRESS_BYTE_COUNT	1710052
+SHUFFLE	COPY_MAP_DATA	138943000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5505677
+SHUFFLE	COMPRESS_BYTE_COUNT	1710595
+SHUFFLE	COPY_MAP_DATA	730538000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5478052
+SHUFFLE	COMPRESS_BYTE_COUNT	1702119
+SHUFFLE	COPY_MAP_DATA	151628000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5475606
+SHUFFLE	COMPRESS_BYTE_COUNT	1750350
+SHUFFLE	COPY_MAP_DATA	905692000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5608787
+SHUFFLE	COMPRESS_BYTE_COUNT	1722122
+SHUFFLE	COPY_MAP_DATA	340602000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5467761
+SHUFFLE	COMPRESS_BYTE_COUNT	1698561
+SHUFFLE	COPY_MAP_DATA	624577000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5570269
+SHUFFLE	COMPRESS_BYTE_COUNT	1731148
+SHUFFLE	COPY_MAP_DATA	108186000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5557327
+SHUFFLE	COMPRESS_BYTE_COUNT	1706076
+SHUFFLE	COPY_MAP_DATA	685123000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5536804
+SHUFFLE	COMPRESS_BYTE_COUNT	1700164
+SHUFFLE	COPY_MAP_DATA	234757000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5517245
+SHUFFLE	COMPRESS_BYTE_COUNT	1693504
+SHUFFLE	COPY_MAP_DATA	142702000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5499131
+SHUFFLE	COMPRESS_BYTE_COUNT	1710278
+SHUFFLE	COPY_MAP_DATA	250646000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5506744
+SHUFFLE	COMPRESS_BYTE_COUNT	1710356
+SHUFFLE	COPY_MAP_DATA	429728000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5579236
+SHUFFLE	COMPRESS_BYTE_COUNT	1732587
+SHUFFLE	COPY_MAP_DATA	128481000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5617841
+SHUFFLE	COMPRESS_BYTE_COUNT	1723795
+SHUFFLE	COPY_MAP_DATA	1077558000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5485777
+SHUFFLE	COMPRESS_BYTE_COUNT	1704878
+SHUFFLE	COPY_MAP_DATA	6285967000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5497665
+SHUFFLE	COMPRESS_BYTE_COUNT	1708928
+SHUFFLE	COPY_MAP_DATA	94392000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5534632
+SHUFFLE	COMPRESS_BYTE_COUNT	1721142
+SHUFFLE	COPY_MAP_DATA	114093000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5539731
+SHUFFLE	COMPRESS_BYTE_COUNT	1700966
+SHUFFLE	COPY_MAP_DATA	95991000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5489672
+SHUFFLE	COMPRESS_BYTE_COUNT	1704791
+SHUFFLE	COPY_MAP_DATA	2020445000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5468593
+SHUFFLE	COMPRESS_BYTE_COUNT	1721263
+SHUFFLE	COPY_MAP_DATA	161084000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5487763
+SHUFFLE	COMPRESS_BYTE_COUNT	1706886
+SHUFFLE	COPY_MAP_DATA	252091000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5480401
+SHUFFLE	COMPRESS_BYTE_COUNT	1703595
+SHUFFLE	COPY_MAP_DATA	178857000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5517589
+SHUFFLE	COMPRESS_BYTE_COUNT	1693916
+SHUFFLE	COPY_MAP_DATA	288146000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5518684
+SHUFFLE	COMPRESS_BYTE_COUNT	1715590
+SHUFFLE	COPY_MAP_DATA	628874000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5488704
+SHUFFLE	COMPRESS_BYTE_COUNT	1685035
+SHUFFLE	COPY_MAP_DATA	167257000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5488221
+SHUFFLE	COMPRESS_BYTE_COUNT	1705514
+SHUFFLE	COPY_MAP_DATA	1010185000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5531257
+SHUFFLE	COMPRESS_BYTE_COUNT	1714586
+SHUFFLE	COPY_MAP_DATA	424241000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5541878
+SHUFFLE	COMPRESS_BYTE_COUNT	1721034
+SHUFFLE	COPY_MAP_DATA	92453000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5535363
+SHUFFLE	COMPRESS_BYTE_COUNT	1699115
+SHUFFLE	COPY_MAP_DATA	315036000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5554634
+SHUFFLE	COMPRESS_BYTE_COUNT	1704822
+SHUFFLE	COPY_MAP_DATA	390707000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5529903
+SHUFFLE	COMPRESS_BYTE_COUNT	1718067
+SHUFFLE	COPY_MAP_DATA	292441000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5569074
+SHUFFLE	COMPRESS_BYTE_COUNT	1709108
+SHUFFLE	COPY_MAP_DATA	350063000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5531087
+SHUFFLE	COMPRESS_BYTE_COUNT	1697280
+SHUFFLE	COPY_MAP_DATA	189226000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5566745
+SHUFFLE	COMPRESS_BYTE_COUNT	1708121
+SHUFFLE	COPY_MAP_DATA	86051000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5593423
+SHUFFLE	COMPRESS_BYTE_COUNT	1716105
+SHUFFLE	COPY_MAP_DATA	84719000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5584382
+SHUFFLE	COMPRESS_BYTE_COUNT	1713213
+SHUFFLE	COPY_MAP_DATA	230491000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5525939
+SHUFFLE	COMPRESS_BYTE_COUNT	1740085
+SHUFFLE	COPY_MAP_DATA	168591000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5542895
+SHUFFLE	COMPRESS_BYTE_COUNT	1700038
+SHUFFLE	COPY_MAP_DATA	604840000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5527942
+SHUFFLE	COMPRESS_BYTE_COUNT	1697332
+SHUFFLE	COPY_MAP_DATA	195178000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5545181
+SHUFFLE	COMPRESS_BYTE_COUNT	1745112
+SHUFFLE	COPY_MAP_DATA	164062000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5545585
+SHUFFLE	COMPRESS_BYTE_COUNT	1702023
+SHUFFLE	COPY_MAP_DATA	101138000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5561061
+SHUFFLE	COMPRESS_BYTE_COUNT	1707160
+SHUFFLE	COPY_MAP_DATA	436143000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5584606
+SHUFFLE	COMPRESS_BYTE_COUNT	1714154
+SHUFFLE	COPY_MAP_DATA	85274000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5544996
+SHUFFLE	COMPRESS_BYTE_COUNT	1702012
+SHUFFLE	COPY_MAP_DATA	2253087000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5584379
+SHUFFLE	COMPRESS_BYTE_COUNT	1714249
+SHUFFLE	COPY_MAP_DATA	108907000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5551344
+SHUFFLE	COMPRESS_BYTE_COUNT	1702965
+SHUFFLE	COPY_MAP_DATA	1151810000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5502621
+SHUFFLE	COMPRESS_BYTE_COUNT	1688289
+SHUFFLE	COPY_MAP_DATA	162514000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5552351
+SHUFFLE	COMPRESS_BYTE_COUNT	1703982
+SHUFFLE	COPY_MAP_DATA	91591000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5589992
+SHUFFLE	COMPRESS_BYTE_COUNT	1715138
+SHUFFLE	COPY_MAP_DATA	109624000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5539448
+SHUFFLE	COMPRESS_BYTE_COUNT	1700432
+SHUFFLE	COPY_MAP_DATA	222167000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5520682
+SHUFFLE	COMPRESS_BYTE_COUNT	1694434
+SHUFFLE	COPY_MAP_DATA	261244000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5408061
+SHUFFLE	COMPRESS_BYTE_COUNT	1700398
+SHUFFLE	COPY_MAP_DATA	295262000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5551513
+SHUFFLE	COMPRESS_BYTE_COUNT	1704695
+SHUFFLE	COPY_MAP_DATA	380595000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5488205
+SHUFFLE	COMPRESS_BYTE_COUNT	1684807
+SHUFFLE	COPY_MAP_DATA	336711000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5638640
+SHUFFLE	COMPRESS_BYTE_COUNT	1729663
+SHUFFLE	COPY_MAP_DATA	170346000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5554216
+SHUFFLE	COMPRESS_BYTE_COUNT	1705674
+SHUFFLE	COPY_MAP_DATA	131102000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5481785
+SHUFFLE	COMPRESS_BYTE_COUNT	1682646
+SHUFFLE	COPY_MAP_DATA	111927000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5566328
+SHUFFLE	COMPRESS_BYTE_COUNT	1708259
+SHUFFLE	COPY_MAP_DATA	173625000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5579441
+SHUFFLE	COMPRESS_BYTE_COUNT	1713317
+SHUFFLE	COPY_MAP_DATA	2758156000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5520293
+SHUFFLE	COMPRESS_BYTE_COUNT	1695719
+SHUFFLE	COPY_MAP_DATA	101900000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5549262
+SHUFFLE	COMPRESS_BYTE_COUNT	1704166
+SHUFFLE	COPY_MAP_DATA	2919176000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5523910
+SHUFFLE	COMPRESS_BYTE_COUNT	1696242
+SHUFFLE	COPY_MAP_DATA	108835000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5545720
+SHUFFLE	COMPRESS_BYTE_COUNT	1702543
+SHUFFLE	COPY_MAP_DATA	97020000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5564150
+SHUFFLE	COMPRESS_BYTE_COUNT	1708064
+SHUFFLE	COPY_MAP_DATA	205968000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5542563
+SHUFFLE	COMPRESS_BYTE_COUNT	1701043
+SHUFFLE	COPY_MAP_DATA	1384857000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5535383
+SHUFFLE	COMPRESS_BYTE_COUNT	1700285
+SHUFFLE	COPY_MAP_DATA	87634000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5520797
+SHUFFLE	COMPRESS_BYTE_COUNT	1694194
+SHUFFLE	COPY_MAP_DATA	84810000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5566689
+SHUFFLE	COMPRESS_BYTE_COUNT	1708246
+SHUFFLE	COPY_MAP_DATA	345571000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5533809
+SHUFFLE	COMPRESS_BYTE_COUNT	1699647
+SHUFFLE	COPY_MAP_DATA	144412000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5587696
+SHUFFLE	COMPRESS_BYTE_COUNT	1714664
+SHUFFLE	COPY_MAP_DATA	685900000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5531092
+SHUFFLE	COMPRESS_BYTE_COUNT	1718756
+SHUFFLE	COPY_MAP_DATA	959359000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5523153
+SHUFFLE	COMPRESS_BYTE_COUNT	1695684
+SHUFFLE	COPY_MAP_DATA	172837000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5553499
+SHUFFLE	COMPRESS_BYTE_COUNT	1704847
+SHUFFLE	COPY_MAP_DATA	456988000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5531335
+SHUFFLE	COMPRESS_BYTE_COUNT	1719007
+SHUFFLE	COPY_MAP_DATA	171373000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5542528
+SHUFFLE	COMPRESS_BYTE_COUNT	1701470
+SHUFFLE	COPY_MAP_DATA	190217000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5525006
+SHUFFLE	COMPRESS_BYTE_COUNT	1717111
+SHUFFLE	COPY_MAP_DATA	449544000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5578772
+SHUFFLE	COMPRESS_BYTE_COUNT	1712452
+SHUFFLE	COPY_MAP_DATA	85857000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5569581
+SHUFFLE	COMPRESS_BYTE_COUNT	1708301
+SHUFFLE	COPY_MAP_DATA	180016000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5504029
+SHUFFLE	COMPRESS_BYTE_COUNT	1690452
+SHUFFLE	COPY_MAP_DATA	419803000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5527316
+SHUFFLE	COMPRESS_BYTE_COUNT	1717123
+SHUFFLE	COPY_MAP_DATA	97112000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5538143
+SHUFFLE	COMPRESS_BYTE_COUNT	1699758
+SHUFFLE	COPY_MAP_DATA	2239964000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5541242
+SHUFFLE	COMPRESS_BYTE_COUNT	1700844
+SHUFFLE	COPY_MAP_DATA	245429000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5490076
+SHUFFLE	COMPRESS_BYTE_COUNT	1686457
+SHUFFLE	COPY_MAP_DATA	8459469000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5544072
+SHUFFLE	COMPRESS_BYTE_COUNT	1701480
+SHUFFLE	COPY_MAP_DATA	158546000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5568184
+SHUFFLE	COMPRESS_BYTE_COUNT	1709373
+SHUFFLE	COPY_MAP_DATA	85608000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5547996
+SHUFFLE	COMPRESS_BYTE_COUNT	1702919
+SHUFFLE	COPY_MAP_DATA	95605000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5577824
+SHUFFLE	COMPRESS_BYTE_COUNT	1713108
+SHUFFLE	COPY_MAP_DATA	89229000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5573992
+SHUFFLE	COMPRESS_BYTE_COUNT	1711158
+SHUFFLE	COPY_MAP_DATA	120030000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5543693
+SHUFFLE	COMPRESS_BYTE_COUNT	1702329
+SHUFFLE	COPY_MAP_DATA	968628000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5584800
+SHUFFLE	COMPRESS_BYTE_COUNT	1714529
+SHUFFLE	COPY_MAP_DATA	1739690000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5515455
+SHUFFLE	COMPRESS_BYTE_COUNT	1714315
+SHUFFLE	COPY_MAP_DATA	91611000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5519676
+SHUFFLE	COMPRESS_BYTE_COUNT	1714477
+SHUFFLE	COPY_MAP_DATA	1128362000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5525748
+SHUFFLE	COMPRESS_BYTE_COUNT	1716859
+SHUFFLE	COPY_MAP_DATA	92169000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5526028
+SHUFFLE	COMPRESS_BYTE_COUNT	1716969
+SHUFFLE	COPY_MAP_DATA	122713000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5511307
+SHUFFLE	COMPRESS_BYTE_COUNT	1712116
+SHUFFLE	COPY_MAP_DATA	304321000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5459698
+SHUFFLE	COMPRESS_BYTE_COUNT	1697042
+SHUFFLE	COPY_MAP_DATA	86096000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5582628
+SHUFFLE	COMPRESS_BYTE_COUNT	1713046
+SHUFFLE	COPY_MAP_DATA	89991000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5494250
+SHUFFLE	COMPRESS_BYTE_COUNT	1708318
+SHUFFLE	COPY_MAP_DATA	154130000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5547391
+SHUFFLE	COMPRESS_BYTE_COUNT	1724214
+SHUFFLE	COPY_MAP_DATA	464707000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5488035
+SHUFFLE	COMPRESS_BYTE_COUNT	1705383
+SHUFFLE	COPY_MAP_DATA	89315000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5479295
+SHUFFLE	COMPRESS_BYTE_COUNT	1704013
+SHUFFLE	COPY_MAP_DATA	88899000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5517515
+SHUFFLE	COMPRESS_BYTE_COUNT	1714809
+SHUFFLE	COPY_MAP_DATA	208697000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5512848
+SHUFFLE	COMPRESS_BYTE_COUNT	1713333
+SHUFFLE	COPY_MAP_DATA	150496000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5498375
+SHUFFLE	COMPRESS_BYTE_COUNT	1709201
+SHUFFLE	COPY_MAP_DATA	137209000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5460754
+SHUFFLE	COMPRESS_BYTE_COUNT	1696617
+SHUFFLE	COPY_MAP_DATA	393917000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5583081
+SHUFFLE	COMPRESS_BYTE_COUNT	1715111
+SHUFFLE	COPY_MAP_DATA	98360000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5551114
+SHUFFLE	COMPRESS_BYTE_COUNT	1703584
+SHUFFLE	COPY_MAP_DATA	489000000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5569062
+SHUFFLE	COMPRESS_BYTE_COUNT	1730482
+SHUFFLE	COPY_MAP_DATA	215916000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5498165
+SHUFFLE	COMPRESS_BYTE_COUNT	1709145
+SHUFFLE	COPY_MAP_DATA	148327000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5486910
+SHUFFLE	COMPRESS_BYTE_COUNT	1705356
+SHUFFLE	COPY_MAP_DATA	459008000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5523245
+SHUFFLE	COMPRESS_BYTE_COUNT	1716958
+SHUFFLE	COPY_MAP_DATA	767053000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5520470
+SHUFFLE	COMPRESS_BYTE_COUNT	1715837
+SHUFFLE	COPY_MAP_DATA	202280000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5476960
+SHUFFLE	COMPRESS_BYTE_COUNT	1703151
+SHUFFLE	COPY_MAP_DATA	115804000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5494655
+SHUFFLE	COMPRESS_BYTE_COUNT	1707031
+SHUFFLE	COPY_MAP_DATA	143474000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5515500
+SHUFFLE	COMPRESS_BYTE_COUNT	1713931
+SHUFFLE	COPY_MAP_DATA	660567000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5547533
+SHUFFLE	COMPRESS_BYTE_COUNT	1724549
+SHUFFLE	COPY_MAP_DATA	1422754000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5539575
+SHUFFLE	COMPRESS_BYTE_COUNT	1721816
+SHUFFLE	COPY_MAP_DATA	111120000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5543648
+SHUFFLE	COMPRESS_BYTE_COUNT	1723757
+SHUFFLE	COPY_MAP_DATA	175660000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5508938
+SHUFFLE	COMPRESS_BYTE_COUNT	1713219
+SHUFFLE	COPY_MAP_DATA	399412000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5532425
+SHUFFLE	COMPRESS_BYTE_COUNT	1719281
+SHUFFLE	COPY_MAP_DATA	859965000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5568052
+SHUFFLE	COMPRESS_BYTE_COUNT	1733474
+SHUFFLE	COPY_MAP_DATA	883431000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5541803
+SHUFFLE	COMPRESS_BYTE_COUNT	1722331
+SHUFFLE	COPY_MAP_DATA	221701000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5543058
+SHUFFLE	COMPRESS_BYTE_COUNT	1725655
+SHUFFLE	COPY_MAP_DATA	597419000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5553066
+SHUFFLE	COMPRESS_BYTE_COUNT	1729052
+SHUFFLE	COPY_MAP_DATA	969649000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5549783
+SHUFFLE	COMPRESS_BYTE_COUNT	1728348
+SHUFFLE	COPY_MAP_DATA	704518000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5480108
+SHUFFLE	COMPRESS_BYTE_COUNT	1702061
+SHUFFLE	COPY_MAP_DATA	169134000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5582071
+SHUFFLE	COMPRESS_BYTE_COUNT	1722961
+SHUFFLE	COPY_MAP_DATA	102388000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5570448
+SHUFFLE	COMPRESS_BYTE_COUNT	1735029
+SHUFFLE	COPY_MAP_DATA	92876000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5598908
+SHUFFLE	COMPRESS_BYTE_COUNT	1729058
+SHUFFLE	COPY_MAP_DATA	195896000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5548967
+SHUFFLE	COMPRESS_BYTE_COUNT	1727847
+SHUFFLE	COPY_MAP_DATA	621810000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5584741
+SHUFFLE	COMPRESS_BYTE_COUNT	1724957
+SHUFFLE	COPY_MAP_DATA	158905000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5563099
+SHUFFLE	COMPRESS_BYTE_COUNT	1732737
+SHUFFLE	COPY_MAP_DATA	3832086000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5462093
+SHUFFLE	COMPRESS_BYTE_COUNT	1699108
+SHUFFLE	COPY_MAP_DATA	101954000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5597713
+SHUFFLE	COMPRESS_BYTE_COUNT	1728037
+SHUFFLE	COPY_MAP_DATA	112313000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5482406
+SHUFFLE	COMPRESS_BYTE_COUNT	1704121
+SHUFFLE	COPY_MAP_DATA	213871000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4762208
+SHUFFLE	COMPRESS_BYTE_COUNT	1461910
+SHUFFLE	COPY_MAP_DATA	617943000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5604083
+SHUFFLE	COMPRESS_BYTE_COUNT	1729077
+SHUFFLE	COPY_MAP_DATA	244205000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4764291
+SHUFFLE	COMPRESS_BYTE_COUNT	1461938
+SHUFFLE	COPY_MAP_DATA	148560000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5543340
+SHUFFLE	COMPRESS_BYTE_COUNT	1727273
+SHUFFLE	COPY_MAP_DATA	149523000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4513784
+SHUFFLE	COMPRESS_BYTE_COUNT	1402040
+SHUFFLE	COPY_MAP_DATA	605016000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4814891
+SHUFFLE	COMPRESS_BYTE_COUNT	1478084
+SHUFFLE	COPY_MAP_DATA	483527000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5587982
+SHUFFLE	COMPRESS_BYTE_COUNT	1726277
+SHUFFLE	COPY_MAP_DATA	235773000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4439027
+SHUFFLE	COMPRESS_BYTE_COUNT	1380159
+SHUFFLE	COPY_MAP_DATA	426129000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5599084
+SHUFFLE	COMPRESS_BYTE_COUNT	1728452
+SHUFFLE	COPY_MAP_DATA	309906000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5548923
+SHUFFLE	COMPRESS_BYTE_COUNT	1729121
+SHUFFLE	COPY_MAP_DATA	106398000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5581917
+SHUFFLE	COMPRESS_BYTE_COUNT	1723733
+SHUFFLE	COPY_MAP_DATA	295414000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5515621
+SHUFFLE	COMPRESS_BYTE_COUNT	1736271
+SHUFFLE	COPY_MAP_DATA	186812000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5586325
+SHUFFLE	COMPRESS_BYTE_COUNT	1724189
+SHUFFLE	COPY_MAP_DATA	89849000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5552354
+SHUFFLE	COMPRESS_BYTE_COUNT	1729650
+SHUFFLE	COPY_MAP_DATA	94802000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5507487
+SHUFFLE	COMPRESS_BYTE_COUNT	1746547
+SHUFFLE	COPY_MAP_DATA	173538000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4441814
+SHUFFLE	COMPRESS_BYTE_COUNT	1381045
+SHUFFLE	COPY_MAP_DATA	444661000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4384748
+SHUFFLE	COMPRESS_BYTE_COUNT	1362553
+SHUFFLE	COPY_MAP_DATA	245872000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5590556
+SHUFFLE	COMPRESS_BYTE_COUNT	1724440
+SHUFFLE	COPY_MAP_DATA	122023000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5602780
+SHUFFLE	COMPRESS_BYTE_COUNT	1729857
+SHUFFLE	COPY_MAP_DATA	224257000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1734725
+SHUFFLE	COMPRESS_BYTE_COUNT	536396
+SHUFFLE	COPY_MAP_DATA	50053000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5556497
+SHUFFLE	COMPRESS_BYTE_COUNT	1731568
+SHUFFLE	COPY_MAP_DATA	151720000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5585979
+SHUFFLE	COMPRESS_BYTE_COUNT	1725411
+SHUFFLE	COPY_MAP_DATA	100981000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5587285
+SHUFFLE	COMPRESS_BYTE_COUNT	1724999
+SHUFFLE	COPY_MAP_DATA	105392000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4771448
+SHUFFLE	COMPRESS_BYTE_COUNT	1463768
+SHUFFLE	COPY_MAP_DATA	81426000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1740000
+SHUFFLE	COMPRESS_BYTE_COUNT	537990
+SHUFFLE	COPY_MAP_DATA	30904000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4352679
+SHUFFLE	COMPRESS_BYTE_COUNT	1353731
+SHUFFLE	COPY_MAP_DATA	480544000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4440158
+SHUFFLE	COMPRESS_BYTE_COUNT	1381003
+SHUFFLE	COPY_MAP_DATA	96774000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4754013
+SHUFFLE	COMPRESS_BYTE_COUNT	1458587
+SHUFFLE	COPY_MAP_DATA	136383000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5551367
+SHUFFLE	COMPRESS_BYTE_COUNT	1728416
+SHUFFLE	COPY_MAP_DATA	89460000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4757535
+SHUFFLE	COMPRESS_BYTE_COUNT	1460438
+SHUFFLE	COPY_MAP_DATA	454938000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4465545
+SHUFFLE	COMPRESS_BYTE_COUNT	1388118
+SHUFFLE	COPY_MAP_DATA	85866000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1742202
+SHUFFLE	COMPRESS_BYTE_COUNT	538314
+SHUFFLE	COPY_MAP_DATA	30926000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5551987
+SHUFFLE	COMPRESS_BYTE_COUNT	1728538
+SHUFFLE	COPY_MAP_DATA	824713000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1671099
+SHUFFLE	COMPRESS_BYTE_COUNT	521128
+SHUFFLE	COPY_MAP_DATA	61682000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1739381
+SHUFFLE	COMPRESS_BYTE_COUNT	538503
+SHUFFLE	COPY_MAP_DATA	49422000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4788622
+SHUFFLE	COMPRESS_BYTE_COUNT	1470313
+SHUFFLE	COPY_MAP_DATA	138209000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5546279
+SHUFFLE	COMPRESS_BYTE_COUNT	1728434
+SHUFFLE	COPY_MAP_DATA	347663000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4473624
+SHUFFLE	COMPRESS_BYTE_COUNT	1391459
+SHUFFLE	COPY_MAP_DATA	89803000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4444704
+SHUFFLE	COMPRESS_BYTE_COUNT	1380240
+SHUFFLE	COPY_MAP_DATA	73685000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4754590
+SHUFFLE	COMPRESS_BYTE_COUNT	1459941
+SHUFFLE	COPY_MAP_DATA	662136000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1666666
+SHUFFLE	COMPRESS_BYTE_COUNT	520227
+SHUFFLE	COPY_MAP_DATA	31728000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1741911
+SHUFFLE	COMPRESS_BYTE_COUNT	537559
+SHUFFLE	COPY_MAP_DATA	69016000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1740113
+SHUFFLE	COMPRESS_BYTE_COUNT	537835
+SHUFFLE	COPY_MAP_DATA	27880000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1738623
+SHUFFLE	COMPRESS_BYTE_COUNT	537008
+SHUFFLE	COPY_MAP_DATA	30624000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5555801
+SHUFFLE	COMPRESS_BYTE_COUNT	1731862
+SHUFFLE	COPY_MAP_DATA	90887000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1733640
+SHUFFLE	COMPRESS_BYTE_COUNT	536509
+SHUFFLE	COPY_MAP_DATA	29193000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1739464
+SHUFFLE	COMPRESS_BYTE_COUNT	537781
+SHUFFLE	COPY_MAP_DATA	30592000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4738756
+SHUFFLE	COMPRESS_BYTE_COUNT	1454699
+SHUFFLE	COPY_MAP_DATA	89823000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4722921
+SHUFFLE	COMPRESS_BYTE_COUNT	1449891
+SHUFFLE	COPY_MAP_DATA	405500000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4774413
+SHUFFLE	COMPRESS_BYTE_COUNT	1465058
+SHUFFLE	COPY_MAP_DATA	88356000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4402718
+SHUFFLE	COMPRESS_BYTE_COUNT	1368998
+SHUFFLE	COPY_MAP_DATA	932893000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4747083
+SHUFFLE	COMPRESS_BYTE_COUNT	1456608
+SHUFFLE	COPY_MAP_DATA	98203000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4093983
+SHUFFLE	COMPRESS_BYTE_COUNT	1290116
+SHUFFLE	COPY_MAP_DATA	70543000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1744483
+SHUFFLE	COMPRESS_BYTE_COUNT	539177
+SHUFFLE	COPY_MAP_DATA	29283000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1666267
+SHUFFLE	COMPRESS_BYTE_COUNT	519699
+SHUFFLE	COPY_MAP_DATA	29303000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4489738
+SHUFFLE	COMPRESS_BYTE_COUNT	1395764
+SHUFFLE	COPY_MAP_DATA	75401000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1662750
+SHUFFLE	COMPRESS_BYTE_COUNT	519209
+SHUFFLE	COPY_MAP_DATA	110233000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1663383
+SHUFFLE	COMPRESS_BYTE_COUNT	518380
+SHUFFLE	COPY_MAP_DATA	43261000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4268930
+SHUFFLE	COMPRESS_BYTE_COUNT	1326825
+SHUFFLE	COPY_MAP_DATA	142787000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1735587
+SHUFFLE	COMPRESS_BYTE_COUNT	536344
+SHUFFLE	COPY_MAP_DATA	141280000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1658220
+SHUFFLE	COMPRESS_BYTE_COUNT	517122
+SHUFFLE	COPY_MAP_DATA	36336000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1738681
+SHUFFLE	COMPRESS_BYTE_COUNT	537729
+SHUFFLE	COPY_MAP_DATA	47796000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1667351
+SHUFFLE	COMPRESS_BYTE_COUNT	520043
+SHUFFLE	COPY_MAP_DATA	37398000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1656851
+SHUFFLE	COMPRESS_BYTE_COUNT	517163
+SHUFFLE	COPY_MAP_DATA	420210000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1698770
+SHUFFLE	COMPRESS_BYTE_COUNT	525467
+SHUFFLE	COPY_MAP_DATA	390661000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1663517
+SHUFFLE	COMPRESS_BYTE_COUNT	518280
+SHUFFLE	COPY_MAP_DATA	30641000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1740158
+SHUFFLE	COMPRESS_BYTE_COUNT	538595
+SHUFFLE	COPY_MAP_DATA	33107000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1664313
+SHUFFLE	COMPRESS_BYTE_COUNT	519306
+SHUFFLE	COPY_MAP_DATA	128279000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1619510
+SHUFFLE	COMPRESS_BYTE_COUNT	505563
+SHUFFLE	COPY_MAP_DATA	28180000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4476326
+SHUFFLE	COMPRESS_BYTE_COUNT	1391598
+SHUFFLE	COPY_MAP_DATA	81195000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1666002
+SHUFFLE	COMPRESS_BYTE_COUNT	519517
+SHUFFLE	COPY_MAP_DATA	93394000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4718801
+SHUFFLE	COMPRESS_BYTE_COUNT	1449676
+SHUFFLE	COPY_MAP_DATA	500798000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1665445
+SHUFFLE	COMPRESS_BYTE_COUNT	519996
+SHUFFLE	COPY_MAP_DATA	28415000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1669721
+SHUFFLE	COMPRESS_BYTE_COUNT	520177
+SHUFFLE	COPY_MAP_DATA	123282000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1664801
+SHUFFLE	COMPRESS_BYTE_COUNT	518543
+SHUFFLE	COPY_MAP_DATA	28950000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4489628
+SHUFFLE	COMPRESS_BYTE_COUNT	1396569
+SHUFFLE	COPY_MAP_DATA	367030000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1573201
+SHUFFLE	COMPRESS_BYTE_COUNT	496782
+SHUFFLE	COPY_MAP_DATA	31728000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4521755
+SHUFFLE	COMPRESS_BYTE_COUNT	1388249
+SHUFFLE	COPY_MAP_DATA	73495000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4520666
+SHUFFLE	COMPRESS_BYTE_COUNT	1405331
+SHUFFLE	COPY_MAP_DATA	163229000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	513233137778
+MERGE	READ_WRITE	504796920778
+MERGE	READ_WRITE_COUNT	8
+MERGE	COMBINE	0
+MERGE	WRITE	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	13293316000
+SORT	READ_WRITE	12136673000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	228843416
+REDUCE	SETUP	8480000
+REDUCE	SETUP_MEM	228843416
+REDUCE	CLEANUP	38000
+REDUCE	CLEANUP_MEM	23391280
+REDUCE	TOTAL_RUN	897826975087
+REDUCE	READ	90337514626
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	795031131461
+REDUCE	WRITE	336748251721
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	55888019
+REDUCE	VALUE_BYTE_COUNT	1647763921
+REDUCE	REDUCE_MEM	23391280
+REDUCE	WRITE	15069000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	1608359019998
@@ -0,0 +1,989 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5495513
+SHUFFLE	COMPRESS_BYTE_COUNT	1707744
+SHUFFLE	COPY_MAP_DATA	354379000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5528066
+SHUFFLE	COMPRESS_BYTE_COUNT	1717991
+SHUFFLE	COPY_MAP_DATA	507122000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5526601
+SHUFFLE	COMPRESS_BYTE_COUNT	1716956
+SHUFFLE	COPY_MAP_DATA	321444000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5497350
+SHUFFLE	COMPRESS_BYTE_COUNT	1709864
+SHUFFLE	COPY_MAP_DATA	1020655000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5491694
+SHUFFLE	COMPRESS_BYTE_COUNT	1706588
+SHUFFLE	COPY_MAP_DATA	288283000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5448163
+SHUFFLE	COMPRESS_BYTE_COUNT	1694018
+SHUFFLE	COPY_MAP_DATA	109469000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5508996
+SHUFFLE	COMPRESS_BYTE_COUNT	1711807
+SHUFFLE	COPY_MAP_DATA	103283000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5487278
+SHUFFLE	COMPRESS_BYTE_COUNT	1705803
+SHUFFLE	COPY_MAP_DATA	90140000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5478740
+SHUFFLE	COMPRESS_BYTE_COUNT	1725512
+SHUFFLE	COPY_MAP_DATA	192413000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5478674
+SHUFFLE	COMPRESS_BYTE_COUNT	1702511
+SHUFFLE	COPY_MAP_DATA	87801000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5507815
+SHUFFLE	COMPRESS_BYTE_COUNT	1713015
+SHUFFLE	COPY_MAP_DATA	204091000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5505053
+SHUFFLE	COMPRESS_BYTE_COUNT	1710847
+SHUFFLE	COPY_MAP_DATA	201657000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5508574
+SHUFFLE	COMPRESS_BYTE_COUNT	1712095
+SHUFFLE	COPY_MAP_DATA	341164000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5512473
+SHUFFLE	COMPRESS_BYTE_COUNT	1713945
+SHUFFLE	COPY_MAP_DATA	183236000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5475506
+SHUFFLE	COMPRESS_BYTE_COUNT	1723941
+SHUFFLE	COPY_MAP_DATA	98727000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5472739
+SHUFFLE	COMPRESS_BYTE_COUNT	1722889
+SHUFFLE	COPY_MAP_DATA	180210000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5505392
+SHUFFLE	COMPRESS_BYTE_COUNT	1710481
+SHUFFLE	COPY_MAP_DATA	143750000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5528980
+SHUFFLE	COMPRESS_BYTE_COUNT	1697353
+SHUFFLE	COPY_MAP_DATA	113208000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5550305
+SHUFFLE	COMPRESS_BYTE_COUNT	1725474
+SHUFFLE	COPY_MAP_DATA	201596000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5486769
+SHUFFLE	COMPRESS_BYTE_COUNT	1705574
+SHUFFLE	COPY_MAP_DATA	87285000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5491820
+SHUFFLE	COMPRESS_BYTE_COUNT	1706390
+SHUFFLE	COPY_MAP_DATA	159564000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5497607
+SHUFFLE	COMPRESS_BYTE_COUNT	1708572
+SHUFFLE	COPY_MAP_DATA	90858000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5471115
+SHUFFLE	COMPRESS_BYTE_COUNT	1722975
+SHUFFLE	COPY_MAP_DATA	86976000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5535924
+SHUFFLE	COMPRESS_BYTE_COUNT	1720686
+SHUFFLE	COPY_MAP_DATA	278427000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5496013
+SHUFFLE	COMPRESS_BYTE_COUNT	1708296
+SHUFFLE	COPY_MAP_DATA	108432000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5511455
+SHUFFLE	COMPRESS_BYTE_COUNT	1712949
+SHUFFLE	COPY_MAP_DATA	429666000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5464453
+SHUFFLE	COMPRESS_BYTE_COUNT	1698544
+SHUFFLE	COPY_MAP_DATA	198922000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5534496
+SHUFFLE	COMPRESS_BYTE_COUNT	1721089
+SHUFFLE	COPY_MAP_DATA	227682000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5516100
+SHUFFLE	COMPRESS_BYTE_COUNT	1713819
+SHUFFLE	COPY_MAP_DATA	1124811000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5483826
+SHUFFLE	COMPRESS_BYTE_COUNT	1753024
+SHUFFLE	COPY_MAP_DATA	120058000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5488923
+SHUFFLE	COMPRESS_BYTE_COUNT	1705632
+SHUFFLE	COPY_MAP_DATA	922498000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5567656
+SHUFFLE	COMPRESS_BYTE_COUNT	1708362
+SHUFFLE	COPY_MAP_DATA	148695000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5489057
+SHUFFLE	COMPRESS_BYTE_COUNT	1705834
+SHUFFLE	COPY_MAP_DATA	359450000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5539242
+SHUFFLE	COMPRESS_BYTE_COUNT	1700122
+SHUFFLE	COPY_MAP_DATA	88482000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5553279
+SHUFFLE	COMPRESS_BYTE_COUNT	1703681
+SHUFFLE	COPY_MAP_DATA	90840000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5514659
+SHUFFLE	COMPRESS_BYTE_COUNT	1715011
+SHUFFLE	COPY_MAP_DATA	134470000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5498829
+SHUFFLE	COMPRESS_BYTE_COUNT	1707529
+SHUFFLE	COPY_MAP_DATA	490790000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5492934
+SHUFFLE	COMPRESS_BYTE_COUNT	1686185
+SHUFFLE	COPY_MAP_DATA	127172000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5510337
+SHUFFLE	COMPRESS_BYTE_COUNT	1712968
+SHUFFLE	COPY_MAP_DATA	83548000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5570823
+SHUFFLE	COMPRESS_BYTE_COUNT	1709875
+SHUFFLE	COPY_MAP_DATA	450347000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5533326
+SHUFFLE	COMPRESS_BYTE_COUNT	1718024
+SHUFFLE	COPY_MAP_DATA	1450388000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5540545
+SHUFFLE	COMPRESS_BYTE_COUNT	1701774
+SHUFFLE	COPY_MAP_DATA	95461000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5555576
+SHUFFLE	COMPRESS_BYTE_COUNT	1726354
+SHUFFLE	COPY_MAP_DATA	3182111000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5531974
+SHUFFLE	COMPRESS_BYTE_COUNT	1719693
+SHUFFLE	COPY_MAP_DATA	227495000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5557886
+SHUFFLE	COMPRESS_BYTE_COUNT	1726692
+SHUFFLE	COPY_MAP_DATA	434297000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5484906
+SHUFFLE	COMPRESS_BYTE_COUNT	1725681
+SHUFFLE	COPY_MAP_DATA	358756000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5495654
+SHUFFLE	COMPRESS_BYTE_COUNT	1707581
+SHUFFLE	COPY_MAP_DATA	1510664000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5485802
+SHUFFLE	COMPRESS_BYTE_COUNT	1705447
+SHUFFLE	COPY_MAP_DATA	119773000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5447085
+SHUFFLE	COMPRESS_BYTE_COUNT	1692853
+SHUFFLE	COPY_MAP_DATA	193455000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5598900
+SHUFFLE	COMPRESS_BYTE_COUNT	1717638
+SHUFFLE	COPY_MAP_DATA	132295000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5499197
+SHUFFLE	COMPRESS_BYTE_COUNT	1688216
+SHUFFLE	COPY_MAP_DATA	1698984000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5558967
+SHUFFLE	COMPRESS_BYTE_COUNT	1706524
+SHUFFLE	COPY_MAP_DATA	102305000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5493535
+SHUFFLE	COMPRESS_BYTE_COUNT	1707949
+SHUFFLE	COPY_MAP_DATA	305000000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5479450
+SHUFFLE	COMPRESS_BYTE_COUNT	1703427
+SHUFFLE	COPY_MAP_DATA	708643000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5440783
+SHUFFLE	COMPRESS_BYTE_COUNT	1689301
+SHUFFLE	COPY_MAP_DATA	896644000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5573974
+SHUFFLE	COMPRESS_BYTE_COUNT	1710742
+SHUFFLE	COPY_MAP_DATA	188329000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5531524
+SHUFFLE	COMPRESS_BYTE_COUNT	1718436
+SHUFFLE	COPY_MAP_DATA	204693000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5556313
+SHUFFLE	COMPRESS_BYTE_COUNT	1705461
+SHUFFLE	COPY_MAP_DATA	523466000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5539245
+SHUFFLE	COMPRESS_BYTE_COUNT	1700230
+SHUFFLE	COPY_MAP_DATA	205468000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5479577
+SHUFFLE	COMPRESS_BYTE_COUNT	1682525
+SHUFFLE	COPY_MAP_DATA	149254000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5593560
+SHUFFLE	COMPRESS_BYTE_COUNT	1716935
+SHUFFLE	COPY_MAP_DATA	87742000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5571398
+SHUFFLE	COMPRESS_BYTE_COUNT	1711253
+SHUFFLE	COPY_MAP_DATA	169888000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5479582
+SHUFFLE	COMPRESS_BYTE_COUNT	1725432
+SHUFFLE	COPY_MAP_DATA	106073000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5458609
+SHUFFLE	COMPRESS_BYTE_COUNT	1718710
+SHUFFLE	COPY_MAP_DATA	116633220
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5538900
+SHUFFLE	COMPRESS_BYTE_COUNT	1699892
+SHUFFLE	COPY_MAP_DATA	133801000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5581064
+SHUFFLE	COMPRESS_BYTE_COUNT	1711993
+SHUFFLE	COPY_MAP_DATA	256757000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5553434
+SHUFFLE	COMPRESS_BYTE_COUNT	1704564
+SHUFFLE	COPY_MAP_DATA	812477000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5536655
+SHUFFLE	COMPRESS_BYTE_COUNT	1698890
+SHUFFLE	COPY_MAP_DATA	317078000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5532640
+SHUFFLE	COMPRESS_BYTE_COUNT	1698570
+SHUFFLE	COPY_MAP_DATA	220125000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5566087
+SHUFFLE	COMPRESS_BYTE_COUNT	1707795
+SHUFFLE	COPY_MAP_DATA	142490000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5567310
+SHUFFLE	COMPRESS_BYTE_COUNT	1708127
+SHUFFLE	COPY_MAP_DATA	100257000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5516538
+SHUFFLE	COMPRESS_BYTE_COUNT	1693921
+SHUFFLE	COPY_MAP_DATA	126033000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5526073
+SHUFFLE	COMPRESS_BYTE_COUNT	1696239
+SHUFFLE	COPY_MAP_DATA	227126000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5615757
+SHUFFLE	COMPRESS_BYTE_COUNT	1723692
+SHUFFLE	COPY_MAP_DATA	504700000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5526538
+SHUFFLE	COMPRESS_BYTE_COUNT	1698061
+SHUFFLE	COPY_MAP_DATA	243670000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5592208
+SHUFFLE	COMPRESS_BYTE_COUNT	1716347
+SHUFFLE	COPY_MAP_DATA	327922000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5611493
+SHUFFLE	COMPRESS_BYTE_COUNT	1722819
+SHUFFLE	COPY_MAP_DATA	135414000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5551204
+SHUFFLE	COMPRESS_BYTE_COUNT	1704113
+SHUFFLE	COPY_MAP_DATA	96756000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5491821
+SHUFFLE	COMPRESS_BYTE_COUNT	1726183
+SHUFFLE	COPY_MAP_DATA	772930000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5538439
+SHUFFLE	COMPRESS_BYTE_COUNT	1698765
+SHUFFLE	COPY_MAP_DATA	86076000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5541555
+SHUFFLE	COMPRESS_BYTE_COUNT	1702257
+SHUFFLE	COPY_MAP_DATA	88462000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5534702
+SHUFFLE	COMPRESS_BYTE_COUNT	1699331
+SHUFFLE	COPY_MAP_DATA	128817000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5493549
+SHUFFLE	COMPRESS_BYTE_COUNT	1685669
+SHUFFLE	COPY_MAP_DATA	310482000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5549075
+SHUFFLE	COMPRESS_BYTE_COUNT	1703589
+SHUFFLE	COPY_MAP_DATA	236392000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5531247
+SHUFFLE	COMPRESS_BYTE_COUNT	1698245
+SHUFFLE	COPY_MAP_DATA	104264000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5546996
+SHUFFLE	COMPRESS_BYTE_COUNT	1703310
+SHUFFLE	COPY_MAP_DATA	5853274000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5569033
+SHUFFLE	COMPRESS_BYTE_COUNT	1710401
+SHUFFLE	COPY_MAP_DATA	99841000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5543794
+SHUFFLE	COMPRESS_BYTE_COUNT	1701830
+SHUFFLE	COPY_MAP_DATA	207298000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5513678
+SHUFFLE	COMPRESS_BYTE_COUNT	1693155
+SHUFFLE	COPY_MAP_DATA	242443000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5601874
+SHUFFLE	COMPRESS_BYTE_COUNT	1719188
+SHUFFLE	COPY_MAP_DATA	192484000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5524814
+SHUFFLE	COMPRESS_BYTE_COUNT	1695825
+SHUFFLE	COPY_MAP_DATA	1500257000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5521061
+SHUFFLE	COMPRESS_BYTE_COUNT	1695305
+SHUFFLE	COPY_MAP_DATA	238121000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5506779
+SHUFFLE	COMPRESS_BYTE_COUNT	1690093
+SHUFFLE	COPY_MAP_DATA	330296000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5589259
+SHUFFLE	COMPRESS_BYTE_COUNT	1715862
+SHUFFLE	COPY_MAP_DATA	143402000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5543221
+SHUFFLE	COMPRESS_BYTE_COUNT	1702825
+SHUFFLE	COPY_MAP_DATA	90336000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5566473
+SHUFFLE	COMPRESS_BYTE_COUNT	1708955
+SHUFFLE	COPY_MAP_DATA	403194000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5574911
+SHUFFLE	COMPRESS_BYTE_COUNT	1711216
+SHUFFLE	COPY_MAP_DATA	1024809000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5529333
+SHUFFLE	COMPRESS_BYTE_COUNT	1719622
+SHUFFLE	COPY_MAP_DATA	532358000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5566953
+SHUFFLE	COMPRESS_BYTE_COUNT	1708628
+SHUFFLE	COPY_MAP_DATA	156139000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5490892
+SHUFFLE	COMPRESS_BYTE_COUNT	1705995
+SHUFFLE	COPY_MAP_DATA	106086000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5551316
+SHUFFLE	COMPRESS_BYTE_COUNT	1724616
+SHUFFLE	COPY_MAP_DATA	958259000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5564646
+SHUFFLE	COMPRESS_BYTE_COUNT	1709522
+SHUFFLE	COPY_MAP_DATA	169933000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5584172
+SHUFFLE	COMPRESS_BYTE_COUNT	1714052
+SHUFFLE	COPY_MAP_DATA	925625000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5572145
+SHUFFLE	COMPRESS_BYTE_COUNT	1710718
+SHUFFLE	COPY_MAP_DATA	95588000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5552566
+SHUFFLE	COMPRESS_BYTE_COUNT	1704663
+SHUFFLE	COPY_MAP_DATA	164073000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5595685
+SHUFFLE	COMPRESS_BYTE_COUNT	1717346
+SHUFFLE	COPY_MAP_DATA	258015000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5531631
+SHUFFLE	COMPRESS_BYTE_COUNT	1698525
+SHUFFLE	COPY_MAP_DATA	110542000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5532350
+SHUFFLE	COMPRESS_BYTE_COUNT	1718838
+SHUFFLE	COPY_MAP_DATA	167181000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5525268
+SHUFFLE	COMPRESS_BYTE_COUNT	1697427
+SHUFFLE	COPY_MAP_DATA	9209824000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5565252
+SHUFFLE	COMPRESS_BYTE_COUNT	1707860
+SHUFFLE	COPY_MAP_DATA	148981000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5559877
+SHUFFLE	COMPRESS_BYTE_COUNT	1706326
+SHUFFLE	COPY_MAP_DATA	1157137000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5569390
+SHUFFLE	COMPRESS_BYTE_COUNT	1708963
+SHUFFLE	COPY_MAP_DATA	2475547000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5535442
+SHUFFLE	COMPRESS_BYTE_COUNT	1699575
+SHUFFLE	COPY_MAP_DATA	1964086000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5548274
+SHUFFLE	COMPRESS_BYTE_COUNT	1702385
+SHUFFLE	COPY_MAP_DATA	464933000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5486134
+SHUFFLE	COMPRESS_BYTE_COUNT	1684334
+SHUFFLE	COPY_MAP_DATA	588826000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5529939
+SHUFFLE	COMPRESS_BYTE_COUNT	1697423
+SHUFFLE	COPY_MAP_DATA	88075000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5536465
+SHUFFLE	COMPRESS_BYTE_COUNT	1720342
+SHUFFLE	COPY_MAP_DATA	147216000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5568465
+SHUFFLE	COMPRESS_BYTE_COUNT	1730832
+SHUFFLE	COPY_MAP_DATA	2378261000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5481925
+SHUFFLE	COMPRESS_BYTE_COUNT	1704153
+SHUFFLE	COPY_MAP_DATA	190606000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5481727
+SHUFFLE	COMPRESS_BYTE_COUNT	1704062
+SHUFFLE	COPY_MAP_DATA	269427000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5516630
+SHUFFLE	COMPRESS_BYTE_COUNT	1714744
+SHUFFLE	COPY_MAP_DATA	113288000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5554584
+SHUFFLE	COMPRESS_BYTE_COUNT	1726211
+SHUFFLE	COPY_MAP_DATA	186938000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5586058
+SHUFFLE	COMPRESS_BYTE_COUNT	1714782
+SHUFFLE	COPY_MAP_DATA	1719642000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5459514
+SHUFFLE	COMPRESS_BYTE_COUNT	1697754
+SHUFFLE	COPY_MAP_DATA	1020643000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5548515
+SHUFFLE	COMPRESS_BYTE_COUNT	1724135
+SHUFFLE	COPY_MAP_DATA	182529000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5484898
+SHUFFLE	COMPRESS_BYTE_COUNT	1705072
+SHUFFLE	COPY_MAP_DATA	89289000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5534346
+SHUFFLE	COMPRESS_BYTE_COUNT	1719598
+SHUFFLE	COPY_MAP_DATA	88547000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5513079
+SHUFFLE	COMPRESS_BYTE_COUNT	1713418
+SHUFFLE	COPY_MAP_DATA	679960000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5565144
+SHUFFLE	COMPRESS_BYTE_COUNT	1728448
+SHUFFLE	COPY_MAP_DATA	1283972000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5479643
+SHUFFLE	COMPRESS_BYTE_COUNT	1703599
+SHUFFLE	COPY_MAP_DATA	669478000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5564653
+SHUFFLE	COMPRESS_BYTE_COUNT	1707666
+SHUFFLE	COPY_MAP_DATA	375090000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5467956
+SHUFFLE	COMPRESS_BYTE_COUNT	1699780
+SHUFFLE	COPY_MAP_DATA	748935000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5547443
+SHUFFLE	COMPRESS_BYTE_COUNT	1702914
+SHUFFLE	COPY_MAP_DATA	119509000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5500444
+SHUFFLE	COMPRESS_BYTE_COUNT	1708453
+SHUFFLE	COPY_MAP_DATA	97021000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5562120
+SHUFFLE	COMPRESS_BYTE_COUNT	1728752
+SHUFFLE	COPY_MAP_DATA	265104000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5525116
+SHUFFLE	COMPRESS_BYTE_COUNT	1716518
+SHUFFLE	COPY_MAP_DATA	92511000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5484970
+SHUFFLE	COMPRESS_BYTE_COUNT	1705121
+SHUFFLE	COPY_MAP_DATA	88468000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5504226
+SHUFFLE	COMPRESS_BYTE_COUNT	1710546
+SHUFFLE	COPY_MAP_DATA	1788261000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5542563
+SHUFFLE	COMPRESS_BYTE_COUNT	1721140
+SHUFFLE	COPY_MAP_DATA	225995000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5512467
+SHUFFLE	COMPRESS_BYTE_COUNT	1713077
+SHUFFLE	COPY_MAP_DATA	124633000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5503868
+SHUFFLE	COMPRESS_BYTE_COUNT	1710397
+SHUFFLE	COPY_MAP_DATA	455679000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5519174
+SHUFFLE	COMPRESS_BYTE_COUNT	1716307
+SHUFFLE	COPY_MAP_DATA	569199000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5502959
+SHUFFLE	COMPRESS_BYTE_COUNT	1709694
+SHUFFLE	COPY_MAP_DATA	189131000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5552476
+SHUFFLE	COMPRESS_BYTE_COUNT	1725929
+SHUFFLE	COPY_MAP_DATA	104908000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5547605
+SHUFFLE	COMPRESS_BYTE_COUNT	1723954
+SHUFFLE	COPY_MAP_DATA	126687000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5534760
+SHUFFLE	COMPRESS_BYTE_COUNT	1721429
+SHUFFLE	COPY_MAP_DATA	481862000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5553206
+SHUFFLE	COMPRESS_BYTE_COUNT	1730004
+SHUFFLE	COPY_MAP_DATA	614391000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5552008
+SHUFFLE	COMPRESS_BYTE_COUNT	1724528
+SHUFFLE	COPY_MAP_DATA	162122000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5538277
+SHUFFLE	COMPRESS_BYTE_COUNT	1725920
+SHUFFLE	COPY_MAP_DATA	282573000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5555325
+SHUFFLE	COMPRESS_BYTE_COUNT	1728587
+SHUFFLE	COPY_MAP_DATA	342748000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5584686
+SHUFFLE	COMPRESS_BYTE_COUNT	1723773
+SHUFFLE	COPY_MAP_DATA	90247000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5457667
+SHUFFLE	COMPRESS_BYTE_COUNT	1696761
+SHUFFLE	COPY_MAP_DATA	89624000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5547928
+SHUFFLE	COMPRESS_BYTE_COUNT	1729401
+SHUFFLE	COPY_MAP_DATA	89970000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5604518
+SHUFFLE	COMPRESS_BYTE_COUNT	1730484
+SHUFFLE	COPY_MAP_DATA	193685000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5564125
+SHUFFLE	COMPRESS_BYTE_COUNT	1733551
+SHUFFLE	COPY_MAP_DATA	173523000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5546478
+SHUFFLE	COMPRESS_BYTE_COUNT	1726802
+SHUFFLE	COPY_MAP_DATA	101801000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5584346
+SHUFFLE	COMPRESS_BYTE_COUNT	1724124
+SHUFFLE	COPY_MAP_DATA	213844000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5567700
+SHUFFLE	COMPRESS_BYTE_COUNT	1733593
+SHUFFLE	COPY_MAP_DATA	592502000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5607016
+SHUFFLE	COMPRESS_BYTE_COUNT	1729993
+SHUFFLE	COPY_MAP_DATA	88132000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5480816
+SHUFFLE	COMPRESS_BYTE_COUNT	1703037
+SHUFFLE	COPY_MAP_DATA	294595000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5517045
+SHUFFLE	COMPRESS_BYTE_COUNT	1713921
+SHUFFLE	COPY_MAP_DATA	136266000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4741748
+SHUFFLE	COMPRESS_BYTE_COUNT	1455603
+SHUFFLE	COPY_MAP_DATA	88992000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5599712
+SHUFFLE	COMPRESS_BYTE_COUNT	1728125
+SHUFFLE	COPY_MAP_DATA	89726000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5543189
+SHUFFLE	COMPRESS_BYTE_COUNT	1727262
+SHUFFLE	COPY_MAP_DATA	416095000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4464416
+SHUFFLE	COMPRESS_BYTE_COUNT	1387988
+SHUFFLE	COPY_MAP_DATA	77438000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4723982
+SHUFFLE	COMPRESS_BYTE_COUNT	1451348
+SHUFFLE	COPY_MAP_DATA	77513000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4399172
+SHUFFLE	COMPRESS_BYTE_COUNT	1368672
+SHUFFLE	COPY_MAP_DATA	70842000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5599226
+SHUFFLE	COMPRESS_BYTE_COUNT	1728083
+SHUFFLE	COPY_MAP_DATA	112327000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4692871
+SHUFFLE	COMPRESS_BYTE_COUNT	1440390
+SHUFFLE	COPY_MAP_DATA	257257000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5600968
+SHUFFLE	COMPRESS_BYTE_COUNT	1728080
+SHUFFLE	COPY_MAP_DATA	91365000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5591375
+SHUFFLE	COMPRESS_BYTE_COUNT	1724902
+SHUFFLE	COPY_MAP_DATA	88665000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5563502
+SHUFFLE	COMPRESS_BYTE_COUNT	1732289
+SHUFFLE	COPY_MAP_DATA	539035000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5522674
+SHUFFLE	COMPRESS_BYTE_COUNT	1736509
+SHUFFLE	COPY_MAP_DATA	86520000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5586296
+SHUFFLE	COMPRESS_BYTE_COUNT	1724948
+SHUFFLE	COPY_MAP_DATA	345016000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4423561
+SHUFFLE	COMPRESS_BYTE_COUNT	1374619
+SHUFFLE	COPY_MAP_DATA	124232000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5552172
+SHUFFLE	COMPRESS_BYTE_COUNT	1730224
+SHUFFLE	COPY_MAP_DATA	89574000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5500360
+SHUFFLE	COMPRESS_BYTE_COUNT	1744339
+SHUFFLE	COPY_MAP_DATA	90167000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4409845
+SHUFFLE	COMPRESS_BYTE_COUNT	1369883
+SHUFFLE	COPY_MAP_DATA	141149000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5591790
+SHUFFLE	COMPRESS_BYTE_COUNT	1725988
+SHUFFLE	COPY_MAP_DATA	89273000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5616336
+SHUFFLE	COMPRESS_BYTE_COUNT	1733564
+SHUFFLE	COPY_MAP_DATA	99142000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1741130
+SHUFFLE	COMPRESS_BYTE_COUNT	537949
+SHUFFLE	COPY_MAP_DATA	234111000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5594284
+SHUFFLE	COMPRESS_BYTE_COUNT	1725742
+SHUFFLE	COPY_MAP_DATA	177207000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5566140
+SHUFFLE	COMPRESS_BYTE_COUNT	1733859
+SHUFFLE	COPY_MAP_DATA	259253000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5584789
+SHUFFLE	COMPRESS_BYTE_COUNT	1724462
+SHUFFLE	COPY_MAP_DATA	110466000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1737311
+SHUFFLE	COMPRESS_BYTE_COUNT	537709
+SHUFFLE	COPY_MAP_DATA	31214000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4696783
+SHUFFLE	COMPRESS_BYTE_COUNT	1441733
+SHUFFLE	COPY_MAP_DATA	107331000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4451102
+SHUFFLE	COMPRESS_BYTE_COUNT	1383651
+SHUFFLE	COPY_MAP_DATA	136341000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4760580
+SHUFFLE	COMPRESS_BYTE_COUNT	1462038
+SHUFFLE	COPY_MAP_DATA	138537000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4451248
+SHUFFLE	COMPRESS_BYTE_COUNT	1382649
+SHUFFLE	COPY_MAP_DATA	81292000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5547410
+SHUFFLE	COMPRESS_BYTE_COUNT	1727888
+SHUFFLE	COPY_MAP_DATA	90599000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4711949
+SHUFFLE	COMPRESS_BYTE_COUNT	1446648
+SHUFFLE	COPY_MAP_DATA	437674000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4428075
+SHUFFLE	COMPRESS_BYTE_COUNT	1375654
+SHUFFLE	COPY_MAP_DATA	85774000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1735519
+SHUFFLE	COMPRESS_BYTE_COUNT	536774
+SHUFFLE	COPY_MAP_DATA	31540000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5545957
+SHUFFLE	COMPRESS_BYTE_COUNT	1727932
+SHUFFLE	COPY_MAP_DATA	127819000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1670332
+SHUFFLE	COMPRESS_BYTE_COUNT	520853
+SHUFFLE	COPY_MAP_DATA	169387000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4767969
+SHUFFLE	COMPRESS_BYTE_COUNT	1463047
+SHUFFLE	COPY_MAP_DATA	94384000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1737405
+SHUFFLE	COMPRESS_BYTE_COUNT	537527
+SHUFFLE	COPY_MAP_DATA	29587000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4481052
+SHUFFLE	COMPRESS_BYTE_COUNT	1392528
+SHUFFLE	COPY_MAP_DATA	71770000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4378888
+SHUFFLE	COMPRESS_BYTE_COUNT	1361831
+SHUFFLE	COPY_MAP_DATA	229465000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5546148
+SHUFFLE	COMPRESS_BYTE_COUNT	1728238
+SHUFFLE	COPY_MAP_DATA	172745000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1666392
+SHUFFLE	COMPRESS_BYTE_COUNT	519957
+SHUFFLE	COPY_MAP_DATA	280139000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4756300
+SHUFFLE	COMPRESS_BYTE_COUNT	1460167
+SHUFFLE	COPY_MAP_DATA	100118000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5568727
+SHUFFLE	COMPRESS_BYTE_COUNT	1734136
+SHUFFLE	COPY_MAP_DATA	316085000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1736297
+SHUFFLE	COMPRESS_BYTE_COUNT	537074
+SHUFFLE	COPY_MAP_DATA	29992000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1740308
+SHUFFLE	COMPRESS_BYTE_COUNT	537585
+SHUFFLE	COPY_MAP_DATA	205235000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1738660
+SHUFFLE	COMPRESS_BYTE_COUNT	537299
+SHUFFLE	COPY_MAP_DATA	29274000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1733824
+SHUFFLE	COMPRESS_BYTE_COUNT	536358
+SHUFFLE	COPY_MAP_DATA	78236000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4772254
+SHUFFLE	COMPRESS_BYTE_COUNT	1463944
+SHUFFLE	COPY_MAP_DATA	222549000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1732896
+SHUFFLE	COMPRESS_BYTE_COUNT	535840
+SHUFFLE	COPY_MAP_DATA	186811000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4717570
+SHUFFLE	COMPRESS_BYTE_COUNT	1447271
+SHUFFLE	COPY_MAP_DATA	313891000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4696260
+SHUFFLE	COMPRESS_BYTE_COUNT	1442358
+SHUFFLE	COPY_MAP_DATA	158426000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4724564
+SHUFFLE	COMPRESS_BYTE_COUNT	1450747
+SHUFFLE	COPY_MAP_DATA	365810000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4424322
+SHUFFLE	COMPRESS_BYTE_COUNT	1375616
+SHUFFLE	COPY_MAP_DATA	387831000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4108446
+SHUFFLE	COMPRESS_BYTE_COUNT	1294293
+SHUFFLE	COPY_MAP_DATA	272044000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1734573
+SHUFFLE	COMPRESS_BYTE_COUNT	536855
+SHUFFLE	COPY_MAP_DATA	63217000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1666349
+SHUFFLE	COMPRESS_BYTE_COUNT	519940
+SHUFFLE	COPY_MAP_DATA	27982000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1660819
+SHUFFLE	COMPRESS_BYTE_COUNT	518401
+SHUFFLE	COPY_MAP_DATA	42717000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4518298
+SHUFFLE	COMPRESS_BYTE_COUNT	1403685
+SHUFFLE	COPY_MAP_DATA	153182000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1658105
+SHUFFLE	COMPRESS_BYTE_COUNT	517376
+SHUFFLE	COPY_MAP_DATA	67439000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1735308
+SHUFFLE	COMPRESS_BYTE_COUNT	536490
+SHUFFLE	COPY_MAP_DATA	47016000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1739873
+SHUFFLE	COMPRESS_BYTE_COUNT	537583
+SHUFFLE	COPY_MAP_DATA	29450000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4249767
+SHUFFLE	COMPRESS_BYTE_COUNT	1321818
+SHUFFLE	COPY_MAP_DATA	165029000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1622269
+SHUFFLE	COMPRESS_BYTE_COUNT	505569
+SHUFFLE	COPY_MAP_DATA	27783000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1657938
+SHUFFLE	COMPRESS_BYTE_COUNT	517927
+SHUFFLE	COPY_MAP_DATA	28561000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1699060
+SHUFFLE	COMPRESS_BYTE_COUNT	525073
+SHUFFLE	COPY_MAP_DATA	29652000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1668626
+SHUFFLE	COMPRESS_BYTE_COUNT	520772
+SHUFFLE	COPY_MAP_DATA	28258000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1656813
+SHUFFLE	COMPRESS_BYTE_COUNT	516795
+SHUFFLE	COPY_MAP_DATA	32299000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1671216
+SHUFFLE	COMPRESS_BYTE_COUNT	520896
+SHUFFLE	COPY_MAP_DATA	103294000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1742261
+SHUFFLE	COMPRESS_BYTE_COUNT	538389
+SHUFFLE	COPY_MAP_DATA	31588000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1657698
+SHUFFLE	COMPRESS_BYTE_COUNT	517209
+SHUFFLE	COPY_MAP_DATA	32931000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4423933
+SHUFFLE	COMPRESS_BYTE_COUNT	1375148
+SHUFFLE	COPY_MAP_DATA	199671000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1667941
+SHUFFLE	COMPRESS_BYTE_COUNT	520958
+SHUFFLE	COPY_MAP_DATA	69995000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1660491
+SHUFFLE	COMPRESS_BYTE_COUNT	519065
+SHUFFLE	COPY_MAP_DATA	32121000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4727217
+SHUFFLE	COMPRESS_BYTE_COUNT	1450910
+SHUFFLE	COPY_MAP_DATA	313820000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1668949
+SHUFFLE	COMPRESS_BYTE_COUNT	520143
+SHUFFLE	COPY_MAP_DATA	27634000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1672205
+SHUFFLE	COMPRESS_BYTE_COUNT	520992
+SHUFFLE	COPY_MAP_DATA	1622092000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4462743
+SHUFFLE	COMPRESS_BYTE_COUNT	1386291
+SHUFFLE	COPY_MAP_DATA	83863000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1575832
+SHUFFLE	COMPRESS_BYTE_COUNT	497794
+SHUFFLE	COPY_MAP_DATA	64696000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4587290
+SHUFFLE	COMPRESS_BYTE_COUNT	1407242
+SHUFFLE	COPY_MAP_DATA	221126000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4451233
+SHUFFLE	COMPRESS_BYTE_COUNT	1383408
+SHUFFLE	COPY_MAP_DATA	446987000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	466105607260
+MERGE	READ_WRITE	461389724260
+MERGE	READ_WRITE_COUNT	8
+MERGE	COMBINE	0
+MERGE	WRITE	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	8836718000
+SORT	READ_WRITE	8364971000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	124693696
+REDUCE	SETUP	377000
+REDUCE	SETUP_MEM	124693696
+REDUCE	CLEANUP	42000
+REDUCE	CLEANUP_MEM	134565344
+REDUCE	TOTAL_RUN	440791280905
+REDUCE	READ	18477773439
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	408965478466
+REDUCE	WRITE	184328170744
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	55861466
+REDUCE	VALUE_BYTE_COUNT	1647149657
+REDUCE	REDUCE_MEM	134565344
+REDUCE	WRITE	334718000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	1146588055263
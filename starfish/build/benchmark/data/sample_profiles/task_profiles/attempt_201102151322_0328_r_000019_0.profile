@@ -0,0 +1,989 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5486817
+SHUFFLE	COMPRESS_BYTE_COUNT	1727280
+SHUFFLE	COPY_MAP_DATA	120688000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5555304
+SHUFFLE	COMPRESS_BYTE_COUNT	1726096
+SHUFFLE	COPY_MAP_DATA	133440000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5526761
+SHUFFLE	COMPRESS_BYTE_COUNT	1718228
+SHUFFLE	COPY_MAP_DATA	135464000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5532022
+SHUFFLE	COMPRESS_BYTE_COUNT	1719725
+SHUFFLE	COPY_MAP_DATA	100909000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5536664
+SHUFFLE	COMPRESS_BYTE_COUNT	1720588
+SHUFFLE	COPY_MAP_DATA	134696000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5469681
+SHUFFLE	COMPRESS_BYTE_COUNT	1700118
+SHUFFLE	COPY_MAP_DATA	340612000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5509388
+SHUFFLE	COMPRESS_BYTE_COUNT	1712321
+SHUFFLE	COPY_MAP_DATA	228464000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5524876
+SHUFFLE	COMPRESS_BYTE_COUNT	1717162
+SHUFFLE	COPY_MAP_DATA	126222000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5545230
+SHUFFLE	COMPRESS_BYTE_COUNT	1723145
+SHUFFLE	COPY_MAP_DATA	190880000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5511468
+SHUFFLE	COMPRESS_BYTE_COUNT	1714241
+SHUFFLE	COPY_MAP_DATA	164215000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5484397
+SHUFFLE	COMPRESS_BYTE_COUNT	1704810
+SHUFFLE	COPY_MAP_DATA	250759000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5486832
+SHUFFLE	COMPRESS_BYTE_COUNT	1706976
+SHUFFLE	COPY_MAP_DATA	109147000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5448708
+SHUFFLE	COMPRESS_BYTE_COUNT	1715823
+SHUFFLE	COPY_MAP_DATA	123184000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5550135
+SHUFFLE	COMPRESS_BYTE_COUNT	1725191
+SHUFFLE	COPY_MAP_DATA	1423155000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5511239
+SHUFFLE	COMPRESS_BYTE_COUNT	1712841
+SHUFFLE	COPY_MAP_DATA	121541000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5483912
+SHUFFLE	COMPRESS_BYTE_COUNT	1704037
+SHUFFLE	COPY_MAP_DATA	122620000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5470413
+SHUFFLE	COMPRESS_BYTE_COUNT	1700518
+SHUFFLE	COPY_MAP_DATA	92580000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5519329
+SHUFFLE	COMPRESS_BYTE_COUNT	1715613
+SHUFFLE	COPY_MAP_DATA	112192000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5425899
+SHUFFLE	COMPRESS_BYTE_COUNT	1707891
+SHUFFLE	COPY_MAP_DATA	152294000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5523423
+SHUFFLE	COMPRESS_BYTE_COUNT	1716278
+SHUFFLE	COPY_MAP_DATA	86337000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5529888
+SHUFFLE	COMPRESS_BYTE_COUNT	1697910
+SHUFFLE	COPY_MAP_DATA	132625000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5466983
+SHUFFLE	COMPRESS_BYTE_COUNT	1699651
+SHUFFLE	COPY_MAP_DATA	84734000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5471340
+SHUFFLE	COMPRESS_BYTE_COUNT	1700969
+SHUFFLE	COPY_MAP_DATA	85158000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5496018
+SHUFFLE	COMPRESS_BYTE_COUNT	1708082
+SHUFFLE	COPY_MAP_DATA	304665000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5487482
+SHUFFLE	COMPRESS_BYTE_COUNT	1705157
+SHUFFLE	COPY_MAP_DATA	99141000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5531698
+SHUFFLE	COMPRESS_BYTE_COUNT	1718979
+SHUFFLE	COPY_MAP_DATA	935880000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5433167
+SHUFFLE	COMPRESS_BYTE_COUNT	1712229
+SHUFFLE	COPY_MAP_DATA	2716788933
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5547326
+SHUFFLE	COMPRESS_BYTE_COUNT	1723302
+SHUFFLE	COPY_MAP_DATA	593828000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5494507
+SHUFFLE	COMPRESS_BYTE_COUNT	1707334
+SHUFFLE	COPY_MAP_DATA	485964000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5418709
+SHUFFLE	COMPRESS_BYTE_COUNT	1733501
+SHUFFLE	COPY_MAP_DATA	110336000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5488568
+SHUFFLE	COMPRESS_BYTE_COUNT	1706928
+SHUFFLE	COPY_MAP_DATA	102789000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5529512
+SHUFFLE	COMPRESS_BYTE_COUNT	1696198
+SHUFFLE	COPY_MAP_DATA	212170000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5513534
+SHUFFLE	COMPRESS_BYTE_COUNT	1714230
+SHUFFLE	COPY_MAP_DATA	87096000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5544239
+SHUFFLE	COMPRESS_BYTE_COUNT	1702446
+SHUFFLE	COPY_MAP_DATA	119884000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5541417
+SHUFFLE	COMPRESS_BYTE_COUNT	1701097
+SHUFFLE	COPY_MAP_DATA	209694000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5559141
+SHUFFLE	COMPRESS_BYTE_COUNT	1706063
+SHUFFLE	COPY_MAP_DATA	172017000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5494148
+SHUFFLE	COMPRESS_BYTE_COUNT	1708209
+SHUFFLE	COPY_MAP_DATA	830057000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5507044
+SHUFFLE	COMPRESS_BYTE_COUNT	1711750
+SHUFFLE	COPY_MAP_DATA	314168000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5549812
+SHUFFLE	COMPRESS_BYTE_COUNT	1703104
+SHUFFLE	COPY_MAP_DATA	82749000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5507767
+SHUFFLE	COMPRESS_BYTE_COUNT	1711275
+SHUFFLE	COPY_MAP_DATA	201223000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5535778
+SHUFFLE	COMPRESS_BYTE_COUNT	1721048
+SHUFFLE	COPY_MAP_DATA	5967335000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5525602
+SHUFFLE	COMPRESS_BYTE_COUNT	1718001
+SHUFFLE	COPY_MAP_DATA	1482228000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5521580
+SHUFFLE	COMPRESS_BYTE_COUNT	1694743
+SHUFFLE	COPY_MAP_DATA	87846000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5521347
+SHUFFLE	COMPRESS_BYTE_COUNT	1715801
+SHUFFLE	COPY_MAP_DATA	279059000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5512678
+SHUFFLE	COMPRESS_BYTE_COUNT	1713990
+SHUFFLE	COPY_MAP_DATA	4425389000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5520054
+SHUFFLE	COMPRESS_BYTE_COUNT	1714801
+SHUFFLE	COPY_MAP_DATA	87933000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5517147
+SHUFFLE	COMPRESS_BYTE_COUNT	1714511
+SHUFFLE	COPY_MAP_DATA	94466000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5514806
+SHUFFLE	COMPRESS_BYTE_COUNT	1736025
+SHUFFLE	COPY_MAP_DATA	145928000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5534385
+SHUFFLE	COMPRESS_BYTE_COUNT	1698913
+SHUFFLE	COPY_MAP_DATA	106831000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5527925
+SHUFFLE	COMPRESS_BYTE_COUNT	1717591
+SHUFFLE	COPY_MAP_DATA	5254361000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5513885
+SHUFFLE	COMPRESS_BYTE_COUNT	1714459
+SHUFFLE	COPY_MAP_DATA	290510000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5495684
+SHUFFLE	COMPRESS_BYTE_COUNT	1707529
+SHUFFLE	COPY_MAP_DATA	1875966000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5564134
+SHUFFLE	COMPRESS_BYTE_COUNT	1708578
+SHUFFLE	COPY_MAP_DATA	283073000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5605067
+SHUFFLE	COMPRESS_BYTE_COUNT	1720462
+SHUFFLE	COPY_MAP_DATA	895814000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5534242
+SHUFFLE	COMPRESS_BYTE_COUNT	1717244
+SHUFFLE	COPY_MAP_DATA	112822000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5558331
+SHUFFLE	COMPRESS_BYTE_COUNT	1706123
+SHUFFLE	COPY_MAP_DATA	1154436000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5527466
+SHUFFLE	COMPRESS_BYTE_COUNT	1718044
+SHUFFLE	COPY_MAP_DATA	361218000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5615609
+SHUFFLE	COMPRESS_BYTE_COUNT	1723916
+SHUFFLE	COPY_MAP_DATA	561644000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5565456
+SHUFFLE	COMPRESS_BYTE_COUNT	1707624
+SHUFFLE	COPY_MAP_DATA	81836000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5571655
+SHUFFLE	COMPRESS_BYTE_COUNT	1709705
+SHUFFLE	COPY_MAP_DATA	251240000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5585631
+SHUFFLE	COMPRESS_BYTE_COUNT	1713446
+SHUFFLE	COPY_MAP_DATA	119941000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5530427
+SHUFFLE	COMPRESS_BYTE_COUNT	1697260
+SHUFFLE	COPY_MAP_DATA	106942000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5511735
+SHUFFLE	COMPRESS_BYTE_COUNT	1733248
+SHUFFLE	COPY_MAP_DATA	92494000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5544830
+SHUFFLE	COMPRESS_BYTE_COUNT	1702385
+SHUFFLE	COPY_MAP_DATA	83209000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5556718
+SHUFFLE	COMPRESS_BYTE_COUNT	1705338
+SHUFFLE	COPY_MAP_DATA	401469000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5514311
+SHUFFLE	COMPRESS_BYTE_COUNT	1735639
+SHUFFLE	COPY_MAP_DATA	211291000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5602023
+SHUFFLE	COMPRESS_BYTE_COUNT	1719232
+SHUFFLE	COPY_MAP_DATA	103948000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5557841
+SHUFFLE	COMPRESS_BYTE_COUNT	1706229
+SHUFFLE	COPY_MAP_DATA	81781000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5549047
+SHUFFLE	COMPRESS_BYTE_COUNT	1702552
+SHUFFLE	COPY_MAP_DATA	157659000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5549052
+SHUFFLE	COMPRESS_BYTE_COUNT	1704128
+SHUFFLE	COPY_MAP_DATA	124715000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5502438
+SHUFFLE	COMPRESS_BYTE_COUNT	1689229
+SHUFFLE	COPY_MAP_DATA	80909000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5536259
+SHUFFLE	COMPRESS_BYTE_COUNT	1699007
+SHUFFLE	COPY_MAP_DATA	99160000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5522846
+SHUFFLE	COMPRESS_BYTE_COUNT	1694201
+SHUFFLE	COPY_MAP_DATA	81217000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5586573
+SHUFFLE	COMPRESS_BYTE_COUNT	1715286
+SHUFFLE	COPY_MAP_DATA	3431668000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5527735
+SHUFFLE	COMPRESS_BYTE_COUNT	1696477
+SHUFFLE	COPY_MAP_DATA	484615000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5582228
+SHUFFLE	COMPRESS_BYTE_COUNT	1713260
+SHUFFLE	COPY_MAP_DATA	694901000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5543789
+SHUFFLE	COMPRESS_BYTE_COUNT	1701754
+SHUFFLE	COPY_MAP_DATA	948545000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5565566
+SHUFFLE	COMPRESS_BYTE_COUNT	1708642
+SHUFFLE	COPY_MAP_DATA	297713000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5447846
+SHUFFLE	COMPRESS_BYTE_COUNT	1712609
+SHUFFLE	COPY_MAP_DATA	176252000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5554276
+SHUFFLE	COMPRESS_BYTE_COUNT	1705599
+SHUFFLE	COPY_MAP_DATA	142177000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5519024
+SHUFFLE	COMPRESS_BYTE_COUNT	1693682
+SHUFFLE	COPY_MAP_DATA	96545000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5577850
+SHUFFLE	COMPRESS_BYTE_COUNT	1712067
+SHUFFLE	COPY_MAP_DATA	263356000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5577272
+SHUFFLE	COMPRESS_BYTE_COUNT	1712081
+SHUFFLE	COPY_MAP_DATA	561166000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5599820
+SHUFFLE	COMPRESS_BYTE_COUNT	1718591
+SHUFFLE	COPY_MAP_DATA	9281465000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5549747
+SHUFFLE	COMPRESS_BYTE_COUNT	1703236
+SHUFFLE	COPY_MAP_DATA	108749000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5500210
+SHUFFLE	COMPRESS_BYTE_COUNT	1688629
+SHUFFLE	COPY_MAP_DATA	165288000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5582001
+SHUFFLE	COMPRESS_BYTE_COUNT	1712383
+SHUFFLE	COPY_MAP_DATA	236494000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5540134
+SHUFFLE	COMPRESS_BYTE_COUNT	1700073
+SHUFFLE	COPY_MAP_DATA	87322000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5560482
+SHUFFLE	COMPRESS_BYTE_COUNT	1706933
+SHUFFLE	COPY_MAP_DATA	282787000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5541618
+SHUFFLE	COMPRESS_BYTE_COUNT	1699947
+SHUFFLE	COPY_MAP_DATA	106302000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5519314
+SHUFFLE	COMPRESS_BYTE_COUNT	1694103
+SHUFFLE	COPY_MAP_DATA	2805357000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5548040
+SHUFFLE	COMPRESS_BYTE_COUNT	1701820
+SHUFFLE	COPY_MAP_DATA	299097000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5530503
+SHUFFLE	COMPRESS_BYTE_COUNT	1698131
+SHUFFLE	COPY_MAP_DATA	620054000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5530563
+SHUFFLE	COMPRESS_BYTE_COUNT	1697667
+SHUFFLE	COPY_MAP_DATA	670129000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5575156
+SHUFFLE	COMPRESS_BYTE_COUNT	1711204
+SHUFFLE	COPY_MAP_DATA	3093180000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5515671
+SHUFFLE	COMPRESS_BYTE_COUNT	1693051
+SHUFFLE	COPY_MAP_DATA	274281000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5541631
+SHUFFLE	COMPRESS_BYTE_COUNT	1721966
+SHUFFLE	COPY_MAP_DATA	88272000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5557725
+SHUFFLE	COMPRESS_BYTE_COUNT	1726001
+SHUFFLE	COPY_MAP_DATA	180758000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5557013
+SHUFFLE	COMPRESS_BYTE_COUNT	1705215
+SHUFFLE	COPY_MAP_DATA	82566000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5540393
+SHUFFLE	COMPRESS_BYTE_COUNT	1700667
+SHUFFLE	COPY_MAP_DATA	100741000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5507757
+SHUFFLE	COMPRESS_BYTE_COUNT	1688729
+SHUFFLE	COPY_MAP_DATA	117570000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5509969
+SHUFFLE	COMPRESS_BYTE_COUNT	1713139
+SHUFFLE	COPY_MAP_DATA	81227000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5596018
+SHUFFLE	COMPRESS_BYTE_COUNT	1717175
+SHUFFLE	COPY_MAP_DATA	550810000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5569165
+SHUFFLE	COMPRESS_BYTE_COUNT	1709355
+SHUFFLE	COPY_MAP_DATA	2088223000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5523996
+SHUFFLE	COMPRESS_BYTE_COUNT	1695762
+SHUFFLE	COPY_MAP_DATA	164310000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5495754
+SHUFFLE	COMPRESS_BYTE_COUNT	1687911
+SHUFFLE	COPY_MAP_DATA	105948000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5510233
+SHUFFLE	COMPRESS_BYTE_COUNT	1691312
+SHUFFLE	COPY_MAP_DATA	265696000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5536081
+SHUFFLE	COMPRESS_BYTE_COUNT	1699439
+SHUFFLE	COPY_MAP_DATA	156525000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5561658
+SHUFFLE	COMPRESS_BYTE_COUNT	1727561
+SHUFFLE	COPY_MAP_DATA	1854097000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5499810
+SHUFFLE	COMPRESS_BYTE_COUNT	1688108
+SHUFFLE	COPY_MAP_DATA	2794652000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5540959
+SHUFFLE	COMPRESS_BYTE_COUNT	1701671
+SHUFFLE	COPY_MAP_DATA	487340000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5532721
+SHUFFLE	COMPRESS_BYTE_COUNT	1697910
+SHUFFLE	COPY_MAP_DATA	244960000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5533013
+SHUFFLE	COMPRESS_BYTE_COUNT	1698071
+SHUFFLE	COPY_MAP_DATA	849650000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5551295
+SHUFFLE	COMPRESS_BYTE_COUNT	1704143
+SHUFFLE	COPY_MAP_DATA	87591000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5513150
+SHUFFLE	COMPRESS_BYTE_COUNT	1692718
+SHUFFLE	COPY_MAP_DATA	414806000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5533168
+SHUFFLE	COMPRESS_BYTE_COUNT	1698333
+SHUFFLE	COPY_MAP_DATA	261477000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5486644
+SHUFFLE	COMPRESS_BYTE_COUNT	1705572
+SHUFFLE	COPY_MAP_DATA	3032701000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5538232
+SHUFFLE	COMPRESS_BYTE_COUNT	1720783
+SHUFFLE	COPY_MAP_DATA	87452000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5459933
+SHUFFLE	COMPRESS_BYTE_COUNT	1696773
+SHUFFLE	COPY_MAP_DATA	158163000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5495466
+SHUFFLE	COMPRESS_BYTE_COUNT	1709419
+SHUFFLE	COPY_MAP_DATA	100098000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5485176
+SHUFFLE	COMPRESS_BYTE_COUNT	1704458
+SHUFFLE	COPY_MAP_DATA	120162000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5544593
+SHUFFLE	COMPRESS_BYTE_COUNT	1721976
+SHUFFLE	COPY_MAP_DATA	121783000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5602844
+SHUFFLE	COMPRESS_BYTE_COUNT	1719397
+SHUFFLE	COPY_MAP_DATA	82754000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5459751
+SHUFFLE	COMPRESS_BYTE_COUNT	1697207
+SHUFFLE	COPY_MAP_DATA	718506000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5557969
+SHUFFLE	COMPRESS_BYTE_COUNT	1727236
+SHUFFLE	COPY_MAP_DATA	93386000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5502903
+SHUFFLE	COMPRESS_BYTE_COUNT	1709777
+SHUFFLE	COPY_MAP_DATA	89820000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5522120
+SHUFFLE	COMPRESS_BYTE_COUNT	1716606
+SHUFFLE	COPY_MAP_DATA	361689000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5527356
+SHUFFLE	COMPRESS_BYTE_COUNT	1718127
+SHUFFLE	COPY_MAP_DATA	2138713000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5527573
+SHUFFLE	COMPRESS_BYTE_COUNT	1718176
+SHUFFLE	COPY_MAP_DATA	82920000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5457392
+SHUFFLE	COMPRESS_BYTE_COUNT	1696148
+SHUFFLE	COPY_MAP_DATA	1158127000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5508977
+SHUFFLE	COMPRESS_BYTE_COUNT	1691484
+SHUFFLE	COPY_MAP_DATA	388822000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5465108
+SHUFFLE	COMPRESS_BYTE_COUNT	1700204
+SHUFFLE	COPY_MAP_DATA	257771000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5536697
+SHUFFLE	COMPRESS_BYTE_COUNT	1721778
+SHUFFLE	COPY_MAP_DATA	193968000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5542673
+SHUFFLE	COMPRESS_BYTE_COUNT	1701299
+SHUFFLE	COPY_MAP_DATA	87768000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5560497
+SHUFFLE	COMPRESS_BYTE_COUNT	1729515
+SHUFFLE	COPY_MAP_DATA	699894000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5546134
+SHUFFLE	COMPRESS_BYTE_COUNT	1724068
+SHUFFLE	COPY_MAP_DATA	106660000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5515520
+SHUFFLE	COMPRESS_BYTE_COUNT	1714699
+SHUFFLE	COPY_MAP_DATA	97459000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5535773
+SHUFFLE	COMPRESS_BYTE_COUNT	1719532
+SHUFFLE	COPY_MAP_DATA	82939000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5529313
+SHUFFLE	COMPRESS_BYTE_COUNT	1717174
+SHUFFLE	COPY_MAP_DATA	130251000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5513538
+SHUFFLE	COMPRESS_BYTE_COUNT	1714244
+SHUFFLE	COPY_MAP_DATA	180812000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5476149
+SHUFFLE	COMPRESS_BYTE_COUNT	1701222
+SHUFFLE	COPY_MAP_DATA	980193000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5566555
+SHUFFLE	COMPRESS_BYTE_COUNT	1729424
+SHUFFLE	COPY_MAP_DATA	580074000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5548085
+SHUFFLE	COMPRESS_BYTE_COUNT	1724267
+SHUFFLE	COPY_MAP_DATA	94315000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5505747
+SHUFFLE	COMPRESS_BYTE_COUNT	1710903
+SHUFFLE	COPY_MAP_DATA	2222668000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5547698
+SHUFFLE	COMPRESS_BYTE_COUNT	1722962
+SHUFFLE	COPY_MAP_DATA	95291000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5551598
+SHUFFLE	COMPRESS_BYTE_COUNT	1728815
+SHUFFLE	COPY_MAP_DATA	866930000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5584613
+SHUFFLE	COMPRESS_BYTE_COUNT	1736612
+SHUFFLE	COPY_MAP_DATA	82157000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5525938
+SHUFFLE	COMPRESS_BYTE_COUNT	1715896
+SHUFFLE	COPY_MAP_DATA	90061000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5548965
+SHUFFLE	COMPRESS_BYTE_COUNT	1727525
+SHUFFLE	COPY_MAP_DATA	1509631000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5555988
+SHUFFLE	COMPRESS_BYTE_COUNT	1729172
+SHUFFLE	COPY_MAP_DATA	249830000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5543900
+SHUFFLE	COMPRESS_BYTE_COUNT	1728035
+SHUFFLE	COPY_MAP_DATA	274384000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5590261
+SHUFFLE	COMPRESS_BYTE_COUNT	1725334
+SHUFFLE	COPY_MAP_DATA	94033000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5499565
+SHUFFLE	COMPRESS_BYTE_COUNT	1710326
+SHUFFLE	COPY_MAP_DATA	103742000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5574446
+SHUFFLE	COMPRESS_BYTE_COUNT	1735287
+SHUFFLE	COPY_MAP_DATA	137802000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5599587
+SHUFFLE	COMPRESS_BYTE_COUNT	1729703
+SHUFFLE	COPY_MAP_DATA	125387000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5534249
+SHUFFLE	COMPRESS_BYTE_COUNT	1724624
+SHUFFLE	COPY_MAP_DATA	737941000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5581533
+SHUFFLE	COMPRESS_BYTE_COUNT	1723026
+SHUFFLE	COPY_MAP_DATA	108558000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5561695
+SHUFFLE	COMPRESS_BYTE_COUNT	1732927
+SHUFFLE	COPY_MAP_DATA	84859000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5605553
+SHUFFLE	COMPRESS_BYTE_COUNT	1730853
+SHUFFLE	COPY_MAP_DATA	91774000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5474201
+SHUFFLE	COMPRESS_BYTE_COUNT	1701698
+SHUFFLE	COPY_MAP_DATA	169551000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5470475
+SHUFFLE	COMPRESS_BYTE_COUNT	1698971
+SHUFFLE	COPY_MAP_DATA	81476000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5551238
+SHUFFLE	COMPRESS_BYTE_COUNT	1728460
+SHUFFLE	COPY_MAP_DATA	105286000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5597594
+SHUFFLE	COMPRESS_BYTE_COUNT	1727719
+SHUFFLE	COPY_MAP_DATA	120545000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4761373
+SHUFFLE	COMPRESS_BYTE_COUNT	1461476
+SHUFFLE	COPY_MAP_DATA	392645000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4507809
+SHUFFLE	COMPRESS_BYTE_COUNT	1400759
+SHUFFLE	COPY_MAP_DATA	72873000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4763312
+SHUFFLE	COMPRESS_BYTE_COUNT	1462582
+SHUFFLE	COPY_MAP_DATA	71989000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4434988
+SHUFFLE	COMPRESS_BYTE_COUNT	1379116
+SHUFFLE	COPY_MAP_DATA	110096000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5595817
+SHUFFLE	COMPRESS_BYTE_COUNT	1727543
+SHUFFLE	COPY_MAP_DATA	342261000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5592987
+SHUFFLE	COMPRESS_BYTE_COUNT	1726145
+SHUFFLE	COPY_MAP_DATA	88392000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4728454
+SHUFFLE	COMPRESS_BYTE_COUNT	1451902
+SHUFFLE	COPY_MAP_DATA	85221000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5565372
+SHUFFLE	COMPRESS_BYTE_COUNT	1734083
+SHUFFLE	COPY_MAP_DATA	143597000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5586519
+SHUFFLE	COMPRESS_BYTE_COUNT	1724258
+SHUFFLE	COPY_MAP_DATA	106009000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5526904
+SHUFFLE	COMPRESS_BYTE_COUNT	1737664
+SHUFFLE	COPY_MAP_DATA	87843000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5600940
+SHUFFLE	COMPRESS_BYTE_COUNT	1728734
+SHUFFLE	COPY_MAP_DATA	96689000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5558653
+SHUFFLE	COMPRESS_BYTE_COUNT	1732057
+SHUFFLE	COPY_MAP_DATA	441079000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4462773
+SHUFFLE	COMPRESS_BYTE_COUNT	1386363
+SHUFFLE	COPY_MAP_DATA	71508000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4494834
+SHUFFLE	COMPRESS_BYTE_COUNT	1397277
+SHUFFLE	COPY_MAP_DATA	71992000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5493730
+SHUFFLE	COMPRESS_BYTE_COUNT	1742979
+SHUFFLE	COPY_MAP_DATA	140885000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5585741
+SHUFFLE	COMPRESS_BYTE_COUNT	1723826
+SHUFFLE	COPY_MAP_DATA	139412000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5593869
+SHUFFLE	COMPRESS_BYTE_COUNT	1726957
+SHUFFLE	COPY_MAP_DATA	1230390000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5608560
+SHUFFLE	COMPRESS_BYTE_COUNT	1731118
+SHUFFLE	COPY_MAP_DATA	85656000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5565744
+SHUFFLE	COMPRESS_BYTE_COUNT	1733399
+SHUFFLE	COPY_MAP_DATA	158355000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1737512
+SHUFFLE	COMPRESS_BYTE_COUNT	537283
+SHUFFLE	COPY_MAP_DATA	134215000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5588246
+SHUFFLE	COMPRESS_BYTE_COUNT	1725299
+SHUFFLE	COPY_MAP_DATA	3669307000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1739602
+SHUFFLE	COMPRESS_BYTE_COUNT	538093
+SHUFFLE	COPY_MAP_DATA	177378000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4722451
+SHUFFLE	COMPRESS_BYTE_COUNT	1449763
+SHUFFLE	COPY_MAP_DATA	78077000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4739019
+SHUFFLE	COMPRESS_BYTE_COUNT	1454356
+SHUFFLE	COPY_MAP_DATA	111566000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5537926
+SHUFFLE	COMPRESS_BYTE_COUNT	1726462
+SHUFFLE	COPY_MAP_DATA	95653000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4415548
+SHUFFLE	COMPRESS_BYTE_COUNT	1372893
+SHUFFLE	COPY_MAP_DATA	69559000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4726039
+SHUFFLE	COMPRESS_BYTE_COUNT	1451312
+SHUFFLE	COPY_MAP_DATA	83088000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4440478
+SHUFFLE	COMPRESS_BYTE_COUNT	1380858
+SHUFFLE	COPY_MAP_DATA	265372000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4437719
+SHUFFLE	COMPRESS_BYTE_COUNT	1378510
+SHUFFLE	COPY_MAP_DATA	69109000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1739284
+SHUFFLE	COMPRESS_BYTE_COUNT	537862
+SHUFFLE	COPY_MAP_DATA	3765749000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5548613
+SHUFFLE	COMPRESS_BYTE_COUNT	1728688
+SHUFFLE	COPY_MAP_DATA	306504000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1739892
+SHUFFLE	COMPRESS_BYTE_COUNT	537952
+SHUFFLE	COPY_MAP_DATA	28891000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1670467
+SHUFFLE	COMPRESS_BYTE_COUNT	521188
+SHUFFLE	COPY_MAP_DATA	70942000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5541145
+SHUFFLE	COMPRESS_BYTE_COUNT	1726876
+SHUFFLE	COPY_MAP_DATA	98014000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4738314
+SHUFFLE	COMPRESS_BYTE_COUNT	1453840
+SHUFFLE	COPY_MAP_DATA	74079000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4460464
+SHUFFLE	COMPRESS_BYTE_COUNT	1385544
+SHUFFLE	COPY_MAP_DATA	1140090000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4426476
+SHUFFLE	COMPRESS_BYTE_COUNT	1376407
+SHUFFLE	COPY_MAP_DATA	69436000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4782709
+SHUFFLE	COMPRESS_BYTE_COUNT	1468079
+SHUFFLE	COPY_MAP_DATA	1044835000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1661528
+SHUFFLE	COMPRESS_BYTE_COUNT	518380
+SHUFFLE	COPY_MAP_DATA	27786000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1743663
+SHUFFLE	COMPRESS_BYTE_COUNT	538461
+SHUFFLE	COPY_MAP_DATA	28825000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1740670
+SHUFFLE	COMPRESS_BYTE_COUNT	537790
+SHUFFLE	COPY_MAP_DATA	28669000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1741634
+SHUFFLE	COMPRESS_BYTE_COUNT	538942
+SHUFFLE	COPY_MAP_DATA	27626000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1733266
+SHUFFLE	COMPRESS_BYTE_COUNT	535624
+SHUFFLE	COPY_MAP_DATA	42859000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4737331
+SHUFFLE	COMPRESS_BYTE_COUNT	1454701
+SHUFFLE	COPY_MAP_DATA	78216000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4729635
+SHUFFLE	COMPRESS_BYTE_COUNT	1452345
+SHUFFLE	COPY_MAP_DATA	87515000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4733502
+SHUFFLE	COMPRESS_BYTE_COUNT	1453389
+SHUFFLE	COPY_MAP_DATA	95537000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5567663
+SHUFFLE	COMPRESS_BYTE_COUNT	1735103
+SHUFFLE	COPY_MAP_DATA	86219000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1727828
+SHUFFLE	COMPRESS_BYTE_COUNT	534865
+SHUFFLE	COPY_MAP_DATA	28622000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4720028
+SHUFFLE	COMPRESS_BYTE_COUNT	1450077
+SHUFFLE	COPY_MAP_DATA	79792000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4100183
+SHUFFLE	COMPRESS_BYTE_COUNT	1291463
+SHUFFLE	COPY_MAP_DATA	208889000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4430761
+SHUFFLE	COMPRESS_BYTE_COUNT	1377613
+SHUFFLE	COPY_MAP_DATA	69302000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1737743
+SHUFFLE	COMPRESS_BYTE_COUNT	537573
+SHUFFLE	COPY_MAP_DATA	28303000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4465717
+SHUFFLE	COMPRESS_BYTE_COUNT	1387703
+SHUFFLE	COPY_MAP_DATA	80264000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1662327
+SHUFFLE	COMPRESS_BYTE_COUNT	519016
+SHUFFLE	COPY_MAP_DATA	821195000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1666357
+SHUFFLE	COMPRESS_BYTE_COUNT	519977
+SHUFFLE	COPY_MAP_DATA	170905000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1656564
+SHUFFLE	COMPRESS_BYTE_COUNT	516891
+SHUFFLE	COPY_MAP_DATA	40888000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1741179
+SHUFFLE	COMPRESS_BYTE_COUNT	538560
+SHUFFLE	COPY_MAP_DATA	28305000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1731791
+SHUFFLE	COMPRESS_BYTE_COUNT	535642
+SHUFFLE	COPY_MAP_DATA	256757000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1669787
+SHUFFLE	COMPRESS_BYTE_COUNT	520825
+SHUFFLE	COPY_MAP_DATA	27036000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1660084
+SHUFFLE	COMPRESS_BYTE_COUNT	517965
+SHUFFLE	COPY_MAP_DATA	27024000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1695595
+SHUFFLE	COMPRESS_BYTE_COUNT	524107
+SHUFFLE	COPY_MAP_DATA	85889000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4274839
+SHUFFLE	COMPRESS_BYTE_COUNT	1328650
+SHUFFLE	COPY_MAP_DATA	68068000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1672721
+SHUFFLE	COMPRESS_BYTE_COUNT	521784
+SHUFFLE	COPY_MAP_DATA	145389000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1620499
+SHUFFLE	COMPRESS_BYTE_COUNT	505557
+SHUFFLE	COPY_MAP_DATA	334819000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1742912
+SHUFFLE	COMPRESS_BYTE_COUNT	538177
+SHUFFLE	COPY_MAP_DATA	35792000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1657300
+SHUFFLE	COMPRESS_BYTE_COUNT	517383
+SHUFFLE	COPY_MAP_DATA	452850000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1661710
+SHUFFLE	COMPRESS_BYTE_COUNT	517762
+SHUFFLE	COPY_MAP_DATA	37888000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4464465
+SHUFFLE	COMPRESS_BYTE_COUNT	1387517
+SHUFFLE	COPY_MAP_DATA	65631000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1670075
+SHUFFLE	COMPRESS_BYTE_COUNT	521001
+SHUFFLE	COPY_MAP_DATA	26303000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1667091
+SHUFFLE	COMPRESS_BYTE_COUNT	520633
+SHUFFLE	COPY_MAP_DATA	26124000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1661780
+SHUFFLE	COMPRESS_BYTE_COUNT	518400
+SHUFFLE	COPY_MAP_DATA	27102000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4735974
+SHUFFLE	COMPRESS_BYTE_COUNT	1453943
+SHUFFLE	COPY_MAP_DATA	69507000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1660303
+SHUFFLE	COMPRESS_BYTE_COUNT	518464
+SHUFFLE	COPY_MAP_DATA	26532000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4459887
+SHUFFLE	COMPRESS_BYTE_COUNT	1386733
+SHUFFLE	COPY_MAP_DATA	67789000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1576519
+SHUFFLE	COMPRESS_BYTE_COUNT	497600
+SHUFFLE	COPY_MAP_DATA	25442000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4610082
+SHUFFLE	COMPRESS_BYTE_COUNT	1413952
+SHUFFLE	COPY_MAP_DATA	172212000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4434908
+SHUFFLE	COMPRESS_BYTE_COUNT	1378949
+SHUFFLE	COPY_MAP_DATA	88461000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	422179891933
+MERGE	READ_WRITE	414797613000
+MERGE	READ_WRITE_COUNT	8
+MERGE	COMBINE	0
+MERGE	WRITE	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	7572157281
+SORT	READ_WRITE	7364759281
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	217095096
+REDUCE	SETUP	428000
+REDUCE	SETUP_MEM	217095096
+REDUCE	CLEANUP	44000
+REDUCE	CLEANUP_MEM	243727480
+REDUCE	TOTAL_RUN	507151282000
+REDUCE	READ	29076247000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	468123931000
+REDUCE	WRITE	228081010000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	55886436
+REDUCE	VALUE_BYTE_COUNT	1647884933
+REDUCE	REDUCE_MEM	243727480
+REDUCE	WRITE	10218676000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	1213894925214
@@ -0,0 +1,989 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5455716
+SHUFFLE	COMPRESS_BYTE_COUNT	1695984
+SHUFFLE	COPY_MAP_DATA	449402000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5476428
+SHUFFLE	COMPRESS_BYTE_COUNT	1702701
+SHUFFLE	COPY_MAP_DATA	143698000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5469632
+SHUFFLE	COMPRESS_BYTE_COUNT	1699908
+SHUFFLE	COPY_MAP_DATA	133889000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5473090
+SHUFFLE	COMPRESS_BYTE_COUNT	1700808
+SHUFFLE	COPY_MAP_DATA	278607000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5477220
+SHUFFLE	COMPRESS_BYTE_COUNT	1702234
+SHUFFLE	COPY_MAP_DATA	162812000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5528920
+SHUFFLE	COMPRESS_BYTE_COUNT	1718924
+SHUFFLE	COPY_MAP_DATA	103947000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5434481
+SHUFFLE	COMPRESS_BYTE_COUNT	1712134
+SHUFFLE	COPY_MAP_DATA	388534000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5514416
+SHUFFLE	COMPRESS_BYTE_COUNT	1714130
+SHUFFLE	COPY_MAP_DATA	108453000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5470666
+SHUFFLE	COMPRESS_BYTE_COUNT	1701289
+SHUFFLE	COPY_MAP_DATA	264482000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5476936
+SHUFFLE	COMPRESS_BYTE_COUNT	1701367
+SHUFFLE	COPY_MAP_DATA	269118000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5577351
+SHUFFLE	COMPRESS_BYTE_COUNT	1732753
+SHUFFLE	COPY_MAP_DATA	261963000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5473168
+SHUFFLE	COMPRESS_BYTE_COUNT	1701513
+SHUFFLE	COPY_MAP_DATA	360510000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5554718
+SHUFFLE	COMPRESS_BYTE_COUNT	1726218
+SHUFFLE	COPY_MAP_DATA	377364000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5471720
+SHUFFLE	COMPRESS_BYTE_COUNT	1700937
+SHUFFLE	COPY_MAP_DATA	133737000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5508744
+SHUFFLE	COMPRESS_BYTE_COUNT	1734943
+SHUFFLE	COPY_MAP_DATA	90168000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5501917
+SHUFFLE	COMPRESS_BYTE_COUNT	1710193
+SHUFFLE	COPY_MAP_DATA	85876000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5554271
+SHUFFLE	COMPRESS_BYTE_COUNT	1726708
+SHUFFLE	COPY_MAP_DATA	95842000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5590136
+SHUFFLE	COMPRESS_BYTE_COUNT	1715776
+SHUFFLE	COPY_MAP_DATA	88268000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5513301
+SHUFFLE	COMPRESS_BYTE_COUNT	1715469
+SHUFFLE	COPY_MAP_DATA	208613000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5479874
+SHUFFLE	COMPRESS_BYTE_COUNT	1724798
+SHUFFLE	COPY_MAP_DATA	204667000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5469740
+SHUFFLE	COMPRESS_BYTE_COUNT	1699050
+SHUFFLE	COPY_MAP_DATA	168277000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5501268
+SHUFFLE	COMPRESS_BYTE_COUNT	1709747
+SHUFFLE	COPY_MAP_DATA	113329000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5517884
+SHUFFLE	COMPRESS_BYTE_COUNT	1715207
+SHUFFLE	COPY_MAP_DATA	89281000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5541821
+SHUFFLE	COMPRESS_BYTE_COUNT	1723565
+SHUFFLE	COPY_MAP_DATA	105552000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5491276
+SHUFFLE	COMPRESS_BYTE_COUNT	1730039
+SHUFFLE	COPY_MAP_DATA	308166000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5526963
+SHUFFLE	COMPRESS_BYTE_COUNT	1717796
+SHUFFLE	COPY_MAP_DATA	185896000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5492387
+SHUFFLE	COMPRESS_BYTE_COUNT	1706867
+SHUFFLE	COPY_MAP_DATA	1852489000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5562978
+SHUFFLE	COMPRESS_BYTE_COUNT	1729074
+SHUFFLE	COPY_MAP_DATA	406346000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5501145
+SHUFFLE	COMPRESS_BYTE_COUNT	1709748
+SHUFFLE	COPY_MAP_DATA	11032148000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5454115
+SHUFFLE	COMPRESS_BYTE_COUNT	1743245
+SHUFFLE	COPY_MAP_DATA	150163000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5546121
+SHUFFLE	COMPRESS_BYTE_COUNT	1703275
+SHUFFLE	COPY_MAP_DATA	553749000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5568664
+SHUFFLE	COMPRESS_BYTE_COUNT	1730603
+SHUFFLE	COPY_MAP_DATA	585831000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5580592
+SHUFFLE	COMPRESS_BYTE_COUNT	1712172
+SHUFFLE	COPY_MAP_DATA	83021000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5569221
+SHUFFLE	COMPRESS_BYTE_COUNT	1729804
+SHUFFLE	COPY_MAP_DATA	98498000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5539638
+SHUFFLE	COMPRESS_BYTE_COUNT	1699529
+SHUFFLE	COPY_MAP_DATA	117958000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5413331
+SHUFFLE	COMPRESS_BYTE_COUNT	1683216
+SHUFFLE	COPY_MAP_DATA	102064000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5479092
+SHUFFLE	COMPRESS_BYTE_COUNT	1702826
+SHUFFLE	COPY_MAP_DATA	101418000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5505647
+SHUFFLE	COMPRESS_BYTE_COUNT	1689719
+SHUFFLE	COPY_MAP_DATA	102449000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5565917
+SHUFFLE	COMPRESS_BYTE_COUNT	1708126
+SHUFFLE	COPY_MAP_DATA	133793000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5507928
+SHUFFLE	COMPRESS_BYTE_COUNT	1711162
+SHUFFLE	COPY_MAP_DATA	109021000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5515363
+SHUFFLE	COMPRESS_BYTE_COUNT	1713143
+SHUFFLE	COPY_MAP_DATA	100347000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5543901
+SHUFFLE	COMPRESS_BYTE_COUNT	1721814
+SHUFFLE	COPY_MAP_DATA	509997000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5566316
+SHUFFLE	COMPRESS_BYTE_COUNT	1729035
+SHUFFLE	COPY_MAP_DATA	138988000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5525790
+SHUFFLE	COMPRESS_BYTE_COUNT	1695893
+SHUFFLE	COPY_MAP_DATA	162221000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5543714
+SHUFFLE	COMPRESS_BYTE_COUNT	1722480
+SHUFFLE	COPY_MAP_DATA	263216000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5538103
+SHUFFLE	COMPRESS_BYTE_COUNT	1720719
+SHUFFLE	COPY_MAP_DATA	546120000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5454784
+SHUFFLE	COMPRESS_BYTE_COUNT	1717183
+SHUFFLE	COPY_MAP_DATA	100122000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5521437
+SHUFFLE	COMPRESS_BYTE_COUNT	1715788
+SHUFFLE	COPY_MAP_DATA	465594000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5521604
+SHUFFLE	COMPRESS_BYTE_COUNT	1715691
+SHUFFLE	COPY_MAP_DATA	91542000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5528644
+SHUFFLE	COMPRESS_BYTE_COUNT	1717405
+SHUFFLE	COPY_MAP_DATA	122028000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5503988
+SHUFFLE	COMPRESS_BYTE_COUNT	1689196
+SHUFFLE	COPY_MAP_DATA	111582000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5508340
+SHUFFLE	COMPRESS_BYTE_COUNT	1712663
+SHUFFLE	COPY_MAP_DATA	109846000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5540668
+SHUFFLE	COMPRESS_BYTE_COUNT	1701239
+SHUFFLE	COPY_MAP_DATA	1299456000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5488373
+SHUFFLE	COMPRESS_BYTE_COUNT	1685818
+SHUFFLE	COPY_MAP_DATA	971232000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5516685
+SHUFFLE	COMPRESS_BYTE_COUNT	1710862
+SHUFFLE	COPY_MAP_DATA	198422000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5575636
+SHUFFLE	COMPRESS_BYTE_COUNT	1712155
+SHUFFLE	COPY_MAP_DATA	523454000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5488338
+SHUFFLE	COMPRESS_BYTE_COUNT	1706481
+SHUFFLE	COPY_MAP_DATA	326972000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5545330
+SHUFFLE	COMPRESS_BYTE_COUNT	1701567
+SHUFFLE	COPY_MAP_DATA	318069000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5609774
+SHUFFLE	COMPRESS_BYTE_COUNT	1721732
+SHUFFLE	COPY_MAP_DATA	92908000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5504205
+SHUFFLE	COMPRESS_BYTE_COUNT	1690431
+SHUFFLE	COPY_MAP_DATA	1078206000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5593998
+SHUFFLE	COMPRESS_BYTE_COUNT	1717029
+SHUFFLE	COPY_MAP_DATA	87797000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5551114
+SHUFFLE	COMPRESS_BYTE_COUNT	1704282
+SHUFFLE	COPY_MAP_DATA	611710000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5460749
+SHUFFLE	COMPRESS_BYTE_COUNT	1718967
+SHUFFLE	COPY_MAP_DATA	99978000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5582853
+SHUFFLE	COMPRESS_BYTE_COUNT	1712957
+SHUFFLE	COPY_MAP_DATA	87737000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5401155
+SHUFFLE	COMPRESS_BYTE_COUNT	1701214
+SHUFFLE	COPY_MAP_DATA	132340000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5486792
+SHUFFLE	COMPRESS_BYTE_COUNT	1683938
+SHUFFLE	COPY_MAP_DATA	109333000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5560694
+SHUFFLE	COMPRESS_BYTE_COUNT	1706852
+SHUFFLE	COPY_MAP_DATA	112115000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5558632
+SHUFFLE	COMPRESS_BYTE_COUNT	1705843
+SHUFFLE	COPY_MAP_DATA	116326000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5554222
+SHUFFLE	COMPRESS_BYTE_COUNT	1705676
+SHUFFLE	COPY_MAP_DATA	85898000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5558195
+SHUFFLE	COMPRESS_BYTE_COUNT	1705472
+SHUFFLE	COPY_MAP_DATA	93348000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5534148
+SHUFFLE	COMPRESS_BYTE_COUNT	1698910
+SHUFFLE	COPY_MAP_DATA	651823000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5556081
+SHUFFLE	COMPRESS_BYTE_COUNT	1705920
+SHUFFLE	COPY_MAP_DATA	928854000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5533852
+SHUFFLE	COMPRESS_BYTE_COUNT	1699349
+SHUFFLE	COPY_MAP_DATA	704005000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5554256
+SHUFFLE	COMPRESS_BYTE_COUNT	1706143
+SHUFFLE	COPY_MAP_DATA	156095000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5558540
+SHUFFLE	COMPRESS_BYTE_COUNT	1706122
+SHUFFLE	COPY_MAP_DATA	90092000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5518408
+SHUFFLE	COMPRESS_BYTE_COUNT	1693831
+SHUFFLE	COPY_MAP_DATA	339581000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5626242
+SHUFFLE	COMPRESS_BYTE_COUNT	1727408
+SHUFFLE	COPY_MAP_DATA	583529000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5470396
+SHUFFLE	COMPRESS_BYTE_COUNT	1718146
+SHUFFLE	COPY_MAP_DATA	3558794000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5595892
+SHUFFLE	COMPRESS_BYTE_COUNT	1716763
+SHUFFLE	COPY_MAP_DATA	1055866000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5532356
+SHUFFLE	COMPRESS_BYTE_COUNT	1698270
+SHUFFLE	COPY_MAP_DATA	92202000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5558407
+SHUFFLE	COMPRESS_BYTE_COUNT	1706795
+SHUFFLE	COPY_MAP_DATA	90511000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5556108
+SHUFFLE	COMPRESS_BYTE_COUNT	1706048
+SHUFFLE	COPY_MAP_DATA	366955000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5542306
+SHUFFLE	COMPRESS_BYTE_COUNT	1701657
+SHUFFLE	COPY_MAP_DATA	2024515000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5499293
+SHUFFLE	COMPRESS_BYTE_COUNT	1689311
+SHUFFLE	COPY_MAP_DATA	1852987000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5583683
+SHUFFLE	COMPRESS_BYTE_COUNT	1713849
+SHUFFLE	COPY_MAP_DATA	8147830000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5580918
+SHUFFLE	COMPRESS_BYTE_COUNT	1712713
+SHUFFLE	COPY_MAP_DATA	94933000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5601424
+SHUFFLE	COMPRESS_BYTE_COUNT	1719956
+SHUFFLE	COPY_MAP_DATA	316768000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5563612
+SHUFFLE	COMPRESS_BYTE_COUNT	1708337
+SHUFFLE	COPY_MAP_DATA	85931000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5581960
+SHUFFLE	COMPRESS_BYTE_COUNT	1713197
+SHUFFLE	COPY_MAP_DATA	1263802000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5548192
+SHUFFLE	COMPRESS_BYTE_COUNT	1702510
+SHUFFLE	COPY_MAP_DATA	957440000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5574365
+SHUFFLE	COMPRESS_BYTE_COUNT	1710540
+SHUFFLE	COPY_MAP_DATA	2045419000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5515835
+SHUFFLE	COMPRESS_BYTE_COUNT	1692683
+SHUFFLE	COPY_MAP_DATA	96193000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5532653
+SHUFFLE	COMPRESS_BYTE_COUNT	1699624
+SHUFFLE	COPY_MAP_DATA	85454000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5585029
+SHUFFLE	COMPRESS_BYTE_COUNT	1715099
+SHUFFLE	COPY_MAP_DATA	98172000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5522272
+SHUFFLE	COMPRESS_BYTE_COUNT	1694684
+SHUFFLE	COPY_MAP_DATA	86344000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5599722
+SHUFFLE	COMPRESS_BYTE_COUNT	1718331
+SHUFFLE	COPY_MAP_DATA	265407000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5477218
+SHUFFLE	COMPRESS_BYTE_COUNT	1703125
+SHUFFLE	COPY_MAP_DATA	87791000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5504138
+SHUFFLE	COMPRESS_BYTE_COUNT	1710312
+SHUFFLE	COPY_MAP_DATA	108210000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5527949
+SHUFFLE	COMPRESS_BYTE_COUNT	1697658
+SHUFFLE	COPY_MAP_DATA	167388000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5567765
+SHUFFLE	COMPRESS_BYTE_COUNT	1709249
+SHUFFLE	COPY_MAP_DATA	1107079000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5459318
+SHUFFLE	COMPRESS_BYTE_COUNT	1696721
+SHUFFLE	COPY_MAP_DATA	86627000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5584453
+SHUFFLE	COMPRESS_BYTE_COUNT	1713303
+SHUFFLE	COPY_MAP_DATA	424433000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5538950
+SHUFFLE	COMPRESS_BYTE_COUNT	1699458
+SHUFFLE	COPY_MAP_DATA	287270000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5568560
+SHUFFLE	COMPRESS_BYTE_COUNT	1709673
+SHUFFLE	COPY_MAP_DATA	656459000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5528293
+SHUFFLE	COMPRESS_BYTE_COUNT	1697228
+SHUFFLE	COPY_MAP_DATA	2400669000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5490011
+SHUFFLE	COMPRESS_BYTE_COUNT	1686032
+SHUFFLE	COPY_MAP_DATA	601432000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5541876
+SHUFFLE	COMPRESS_BYTE_COUNT	1699706
+SHUFFLE	COPY_MAP_DATA	5190653000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5494215
+SHUFFLE	COMPRESS_BYTE_COUNT	1707026
+SHUFFLE	COPY_MAP_DATA	111058000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5521730
+SHUFFLE	COMPRESS_BYTE_COUNT	1694630
+SHUFFLE	COPY_MAP_DATA	114446000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5571620
+SHUFFLE	COMPRESS_BYTE_COUNT	1710429
+SHUFFLE	COPY_MAP_DATA	85921000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5564254
+SHUFFLE	COMPRESS_BYTE_COUNT	1708361
+SHUFFLE	COPY_MAP_DATA	98530000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5554263
+SHUFFLE	COMPRESS_BYTE_COUNT	1704683
+SHUFFLE	COPY_MAP_DATA	479170000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5597427
+SHUFFLE	COMPRESS_BYTE_COUNT	1717408
+SHUFFLE	COPY_MAP_DATA	198752000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5581271
+SHUFFLE	COMPRESS_BYTE_COUNT	1713746
+SHUFFLE	COPY_MAP_DATA	204568000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5556552
+SHUFFLE	COMPRESS_BYTE_COUNT	1705271
+SHUFFLE	COPY_MAP_DATA	465877000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5563798
+SHUFFLE	COMPRESS_BYTE_COUNT	1706668
+SHUFFLE	COPY_MAP_DATA	530296000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5511921
+SHUFFLE	COMPRESS_BYTE_COUNT	1712666
+SHUFFLE	COPY_MAP_DATA	266262000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5511351
+SHUFFLE	COMPRESS_BYTE_COUNT	1714224
+SHUFFLE	COPY_MAP_DATA	93895000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5470988
+SHUFFLE	COMPRESS_BYTE_COUNT	1700733
+SHUFFLE	COPY_MAP_DATA	1255557000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5474825
+SHUFFLE	COMPRESS_BYTE_COUNT	1701990
+SHUFFLE	COPY_MAP_DATA	157517000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5504198
+SHUFFLE	COMPRESS_BYTE_COUNT	1709716
+SHUFFLE	COPY_MAP_DATA	147048000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5495561
+SHUFFLE	COMPRESS_BYTE_COUNT	1707772
+SHUFFLE	COPY_MAP_DATA	101601000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5523168
+SHUFFLE	COMPRESS_BYTE_COUNT	1697205
+SHUFFLE	COPY_MAP_DATA	87283000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5521651
+SHUFFLE	COMPRESS_BYTE_COUNT	1716039
+SHUFFLE	COPY_MAP_DATA	83128000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5464391
+SHUFFLE	COMPRESS_BYTE_COUNT	1698676
+SHUFFLE	COPY_MAP_DATA	244451000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5537959
+SHUFFLE	COMPRESS_BYTE_COUNT	1720776
+SHUFFLE	COPY_MAP_DATA	83564000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5505338
+SHUFFLE	COMPRESS_BYTE_COUNT	1711288
+SHUFFLE	COPY_MAP_DATA	349354000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5514761
+SHUFFLE	COMPRESS_BYTE_COUNT	1714326
+SHUFFLE	COPY_MAP_DATA	95182000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5518357
+SHUFFLE	COMPRESS_BYTE_COUNT	1714805
+SHUFFLE	COPY_MAP_DATA	602858000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5520120
+SHUFFLE	COMPRESS_BYTE_COUNT	1715201
+SHUFFLE	COPY_MAP_DATA	503155000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5494246
+SHUFFLE	COMPRESS_BYTE_COUNT	1686519
+SHUFFLE	COPY_MAP_DATA	100434000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5499032
+SHUFFLE	COMPRESS_BYTE_COUNT	1687517
+SHUFFLE	COPY_MAP_DATA	469288000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5530275
+SHUFFLE	COMPRESS_BYTE_COUNT	1718609
+SHUFFLE	COPY_MAP_DATA	1113323000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5472215
+SHUFFLE	COMPRESS_BYTE_COUNT	1702121
+SHUFFLE	COPY_MAP_DATA	95064000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5562982
+SHUFFLE	COMPRESS_BYTE_COUNT	1729199
+SHUFFLE	COPY_MAP_DATA	89136000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5521397
+SHUFFLE	COMPRESS_BYTE_COUNT	1715782
+SHUFFLE	COPY_MAP_DATA	179539000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5477155
+SHUFFLE	COMPRESS_BYTE_COUNT	1702405
+SHUFFLE	COPY_MAP_DATA	243306000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5505289
+SHUFFLE	COMPRESS_BYTE_COUNT	1710640
+SHUFFLE	COPY_MAP_DATA	97076000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5546875
+SHUFFLE	COMPRESS_BYTE_COUNT	1723340
+SHUFFLE	COPY_MAP_DATA	370526000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5537573
+SHUFFLE	COMPRESS_BYTE_COUNT	1720794
+SHUFFLE	COPY_MAP_DATA	192538000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5536420
+SHUFFLE	COMPRESS_BYTE_COUNT	1720207
+SHUFFLE	COPY_MAP_DATA	89220000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5497672
+SHUFFLE	COMPRESS_BYTE_COUNT	1708423
+SHUFFLE	COPY_MAP_DATA	1160442000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5520471
+SHUFFLE	COMPRESS_BYTE_COUNT	1714991
+SHUFFLE	COPY_MAP_DATA	283879000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5534023
+SHUFFLE	COMPRESS_BYTE_COUNT	1720133
+SHUFFLE	COPY_MAP_DATA	135912000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5505089
+SHUFFLE	COMPRESS_BYTE_COUNT	1710675
+SHUFFLE	COPY_MAP_DATA	86598000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5532605
+SHUFFLE	COMPRESS_BYTE_COUNT	1719612
+SHUFFLE	COPY_MAP_DATA	98839000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5489910
+SHUFFLE	COMPRESS_BYTE_COUNT	1706273
+SHUFFLE	COPY_MAP_DATA	137655000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5550353
+SHUFFLE	COMPRESS_BYTE_COUNT	1728889
+SHUFFLE	COPY_MAP_DATA	675046000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5545758
+SHUFFLE	COMPRESS_BYTE_COUNT	1728506
+SHUFFLE	COPY_MAP_DATA	180143000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5553709
+SHUFFLE	COMPRESS_BYTE_COUNT	1728986
+SHUFFLE	COPY_MAP_DATA	98703000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5555872
+SHUFFLE	COMPRESS_BYTE_COUNT	1729026
+SHUFFLE	COPY_MAP_DATA	88438000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5536941
+SHUFFLE	COMPRESS_BYTE_COUNT	1720991
+SHUFFLE	COPY_MAP_DATA	180436000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5591779
+SHUFFLE	COMPRESS_BYTE_COUNT	1726224
+SHUFFLE	COPY_MAP_DATA	142944000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5564361
+SHUFFLE	COMPRESS_BYTE_COUNT	1733494
+SHUFFLE	COPY_MAP_DATA	215740000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5537846
+SHUFFLE	COMPRESS_BYTE_COUNT	1724959
+SHUFFLE	COPY_MAP_DATA	292263000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5574810
+SHUFFLE	COMPRESS_BYTE_COUNT	1721335
+SHUFFLE	COPY_MAP_DATA	95748000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5598987
+SHUFFLE	COMPRESS_BYTE_COUNT	1728024
+SHUFFLE	COPY_MAP_DATA	170905000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5569107
+SHUFFLE	COMPRESS_BYTE_COUNT	1733304
+SHUFFLE	COPY_MAP_DATA	112359000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5597092
+SHUFFLE	COMPRESS_BYTE_COUNT	1728363
+SHUFFLE	COPY_MAP_DATA	132763000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5567001
+SHUFFLE	COMPRESS_BYTE_COUNT	1730944
+SHUFFLE	COPY_MAP_DATA	123853000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5458927
+SHUFFLE	COMPRESS_BYTE_COUNT	1696514
+SHUFFLE	COPY_MAP_DATA	118964000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5537124
+SHUFFLE	COMPRESS_BYTE_COUNT	1725751
+SHUFFLE	COPY_MAP_DATA	645496000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4717901
+SHUFFLE	COMPRESS_BYTE_COUNT	1447643
+SHUFFLE	COPY_MAP_DATA	171721000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5598113
+SHUFFLE	COMPRESS_BYTE_COUNT	1727773
+SHUFFLE	COPY_MAP_DATA	895671000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4509154
+SHUFFLE	COMPRESS_BYTE_COUNT	1401090
+SHUFFLE	COPY_MAP_DATA	70222000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4743645
+SHUFFLE	COMPRESS_BYTE_COUNT	1456602
+SHUFFLE	COPY_MAP_DATA	85210000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4449792
+SHUFFLE	COMPRESS_BYTE_COUNT	1384180
+SHUFFLE	COPY_MAP_DATA	70839000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4707485
+SHUFFLE	COMPRESS_BYTE_COUNT	1445391
+SHUFFLE	COPY_MAP_DATA	232142000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5592854
+SHUFFLE	COMPRESS_BYTE_COUNT	1725621
+SHUFFLE	COPY_MAP_DATA	604129000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5586648
+SHUFFLE	COMPRESS_BYTE_COUNT	1724760
+SHUFFLE	COPY_MAP_DATA	400017000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5521255
+SHUFFLE	COMPRESS_BYTE_COUNT	1737384
+SHUFFLE	COPY_MAP_DATA	131748000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5565762
+SHUFFLE	COMPRESS_BYTE_COUNT	1733794
+SHUFFLE	COPY_MAP_DATA	205560000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5592294
+SHUFFLE	COMPRESS_BYTE_COUNT	1726821
+SHUFFLE	COPY_MAP_DATA	89672000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5595996
+SHUFFLE	COMPRESS_BYTE_COUNT	1727911
+SHUFFLE	COPY_MAP_DATA	83242000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5563406
+SHUFFLE	COMPRESS_BYTE_COUNT	1732628
+SHUFFLE	COPY_MAP_DATA	165426000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5485857
+SHUFFLE	COMPRESS_BYTE_COUNT	1740307
+SHUFFLE	COPY_MAP_DATA	471879000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4444814
+SHUFFLE	COMPRESS_BYTE_COUNT	1380784
+SHUFFLE	COPY_MAP_DATA	244530000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5591565
+SHUFFLE	COMPRESS_BYTE_COUNT	1725245
+SHUFFLE	COPY_MAP_DATA	84667000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5596815
+SHUFFLE	COMPRESS_BYTE_COUNT	1727998
+SHUFFLE	COPY_MAP_DATA	101794000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1740331
+SHUFFLE	COMPRESS_BYTE_COUNT	537871
+SHUFFLE	COPY_MAP_DATA	28938000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4422357
+SHUFFLE	COMPRESS_BYTE_COUNT	1374540
+SHUFFLE	COPY_MAP_DATA	177409000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5589022
+SHUFFLE	COMPRESS_BYTE_COUNT	1724024
+SHUFFLE	COPY_MAP_DATA	97634000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5584904
+SHUFFLE	COMPRESS_BYTE_COUNT	1724825
+SHUFFLE	COPY_MAP_DATA	89009000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5558652
+SHUFFLE	COMPRESS_BYTE_COUNT	1731785
+SHUFFLE	COPY_MAP_DATA	110650000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1742590
+SHUFFLE	COMPRESS_BYTE_COUNT	538661
+SHUFFLE	COPY_MAP_DATA	52905000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4720066
+SHUFFLE	COMPRESS_BYTE_COUNT	1448498
+SHUFFLE	COPY_MAP_DATA	81089000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4414383
+SHUFFLE	COMPRESS_BYTE_COUNT	1373024
+SHUFFLE	COPY_MAP_DATA	152128000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4765216
+SHUFFLE	COMPRESS_BYTE_COUNT	1462034
+SHUFFLE	COPY_MAP_DATA	77325000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5556715
+SHUFFLE	COMPRESS_BYTE_COUNT	1730036
+SHUFFLE	COPY_MAP_DATA	95114000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4747532
+SHUFFLE	COMPRESS_BYTE_COUNT	1457176
+SHUFFLE	COPY_MAP_DATA	433920000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4439635
+SHUFFLE	COMPRESS_BYTE_COUNT	1380838
+SHUFFLE	COPY_MAP_DATA	71954000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4448621
+SHUFFLE	COMPRESS_BYTE_COUNT	1382604
+SHUFFLE	COPY_MAP_DATA	78078000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1739718
+SHUFFLE	COMPRESS_BYTE_COUNT	537669
+SHUFFLE	COPY_MAP_DATA	2737105000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5546304
+SHUFFLE	COMPRESS_BYTE_COUNT	1727853
+SHUFFLE	COPY_MAP_DATA	374561000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1673666
+SHUFFLE	COMPRESS_BYTE_COUNT	521804
+SHUFFLE	COPY_MAP_DATA	30323000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1741249
+SHUFFLE	COMPRESS_BYTE_COUNT	538446
+SHUFFLE	COPY_MAP_DATA	29579000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4755322
+SHUFFLE	COMPRESS_BYTE_COUNT	1460029
+SHUFFLE	COPY_MAP_DATA	76245000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5548943
+SHUFFLE	COMPRESS_BYTE_COUNT	1728184
+SHUFFLE	COPY_MAP_DATA	99518000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4433798
+SHUFFLE	COMPRESS_BYTE_COUNT	1378108
+SHUFFLE	COPY_MAP_DATA	73294000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4469382
+SHUFFLE	COMPRESS_BYTE_COUNT	1389882
+SHUFFLE	COPY_MAP_DATA	82623000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4721238
+SHUFFLE	COMPRESS_BYTE_COUNT	1450288
+SHUFFLE	COPY_MAP_DATA	1318226000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1661699
+SHUFFLE	COMPRESS_BYTE_COUNT	518848
+SHUFFLE	COPY_MAP_DATA	104015000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1739655
+SHUFFLE	COMPRESS_BYTE_COUNT	537893
+SHUFFLE	COPY_MAP_DATA	463795000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1741435
+SHUFFLE	COMPRESS_BYTE_COUNT	538537
+SHUFFLE	COPY_MAP_DATA	46057000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1735052
+SHUFFLE	COMPRESS_BYTE_COUNT	536164
+SHUFFLE	COPY_MAP_DATA	29347000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4743082
+SHUFFLE	COMPRESS_BYTE_COUNT	1456199
+SHUFFLE	COPY_MAP_DATA	80335000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4696740
+SHUFFLE	COMPRESS_BYTE_COUNT	1442831
+SHUFFLE	COPY_MAP_DATA	1373662000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5568743
+SHUFFLE	COMPRESS_BYTE_COUNT	1735341
+SHUFFLE	COPY_MAP_DATA	258314000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1734760
+SHUFFLE	COMPRESS_BYTE_COUNT	536056
+SHUFFLE	COPY_MAP_DATA	32422000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1743177
+SHUFFLE	COMPRESS_BYTE_COUNT	538400
+SHUFFLE	COPY_MAP_DATA	30730000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4725771
+SHUFFLE	COMPRESS_BYTE_COUNT	1451326
+SHUFFLE	COPY_MAP_DATA	161726000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4683447
+SHUFFLE	COMPRESS_BYTE_COUNT	1437418
+SHUFFLE	COPY_MAP_DATA	380815000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4434434
+SHUFFLE	COMPRESS_BYTE_COUNT	1377939
+SHUFFLE	COPY_MAP_DATA	88792000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1664049
+SHUFFLE	COMPRESS_BYTE_COUNT	518972
+SHUFFLE	COPY_MAP_DATA	33778000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1741194
+SHUFFLE	COMPRESS_BYTE_COUNT	538596
+SHUFFLE	COPY_MAP_DATA	28980000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4187450
+SHUFFLE	COMPRESS_BYTE_COUNT	1317573
+SHUFFLE	COPY_MAP_DATA	76089000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1660173
+SHUFFLE	COMPRESS_BYTE_COUNT	517971
+SHUFFLE	COPY_MAP_DATA	28345000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1726785
+SHUFFLE	COMPRESS_BYTE_COUNT	534579
+SHUFFLE	COPY_MAP_DATA	78232000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4487131
+SHUFFLE	COMPRESS_BYTE_COUNT	1395274
+SHUFFLE	COPY_MAP_DATA	71037000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1658314
+SHUFFLE	COMPRESS_BYTE_COUNT	518127
+SHUFFLE	COPY_MAP_DATA	220909000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1662892
+SHUFFLE	COMPRESS_BYTE_COUNT	519421
+SHUFFLE	COPY_MAP_DATA	237541000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4285622
+SHUFFLE	COMPRESS_BYTE_COUNT	1332538
+SHUFFLE	COPY_MAP_DATA	1793525000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1672597
+SHUFFLE	COMPRESS_BYTE_COUNT	521721
+SHUFFLE	COPY_MAP_DATA	26958000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1744046
+SHUFFLE	COMPRESS_BYTE_COUNT	539675
+SHUFFLE	COPY_MAP_DATA	37988000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1662687
+SHUFFLE	COMPRESS_BYTE_COUNT	518499
+SHUFFLE	COPY_MAP_DATA	661253000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1671443
+SHUFFLE	COMPRESS_BYTE_COUNT	521475
+SHUFFLE	COPY_MAP_DATA	1486352000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1740797
+SHUFFLE	COMPRESS_BYTE_COUNT	537528
+SHUFFLE	COPY_MAP_DATA	438316000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1659786
+SHUFFLE	COMPRESS_BYTE_COUNT	517689
+SHUFFLE	COPY_MAP_DATA	32818000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1690801
+SHUFFLE	COMPRESS_BYTE_COUNT	523273
+SHUFFLE	COPY_MAP_DATA	28514000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4699581
+SHUFFLE	COMPRESS_BYTE_COUNT	1442744
+SHUFFLE	COPY_MAP_DATA	1174357000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1617723
+SHUFFLE	COMPRESS_BYTE_COUNT	504933
+SHUFFLE	COPY_MAP_DATA	1902274000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1673315
+SHUFFLE	COMPRESS_BYTE_COUNT	521993
+SHUFFLE	COPY_MAP_DATA	27842000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4441775
+SHUFFLE	COMPRESS_BYTE_COUNT	1380744
+SHUFFLE	COPY_MAP_DATA	101366000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1668505
+SHUFFLE	COMPRESS_BYTE_COUNT	520544
+SHUFFLE	COPY_MAP_DATA	556880000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1664349
+SHUFFLE	COMPRESS_BYTE_COUNT	519091
+SHUFFLE	COPY_MAP_DATA	38736000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1665177
+SHUFFLE	COMPRESS_BYTE_COUNT	519321
+SHUFFLE	COPY_MAP_DATA	27978000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4426191
+SHUFFLE	COMPRESS_BYTE_COUNT	1376281
+SHUFFLE	COPY_MAP_DATA	67095000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1576585
+SHUFFLE	COMPRESS_BYTE_COUNT	497654
+SHUFFLE	COPY_MAP_DATA	194884000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4529885
+SHUFFLE	COMPRESS_BYTE_COUNT	1391356
+SHUFFLE	COPY_MAP_DATA	75398000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4456251
+SHUFFLE	COMPRESS_BYTE_COUNT	1385357
+SHUFFLE	COPY_MAP_DATA	87420000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	488553854272
+MERGE	READ_WRITE	469056203272
+MERGE	READ_WRITE_COUNT	8
+MERGE	COMBINE	0
+MERGE	WRITE	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	7734499000
+SORT	READ_WRITE	7543442000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	254486280
+REDUCE	SETUP	342000
+REDUCE	SETUP_MEM	254486280
+REDUCE	CLEANUP	37000
+REDUCE	CLEANUP_MEM	180400480
+REDUCE	TOTAL_RUN	696395619659
+REDUCE	READ	23099040000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	663613598659
+REDUCE	WRITE	435500602020
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	55864642
+REDUCE	VALUE_BYTE_COUNT	1647221188
+REDUCE	REDUCE_MEM	180402528
+REDUCE	WRITE	8644000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	1388848184451
@@ -0,0 +1,989 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5520188
+SHUFFLE	COMPRESS_BYTE_COUNT	1715157
+SHUFFLE	COPY_MAP_DATA	5718291000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5513575
+SHUFFLE	COMPRESS_BYTE_COUNT	1713244
+SHUFFLE	COPY_MAP_DATA	206649000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5545886
+SHUFFLE	COMPRESS_BYTE_COUNT	1723407
+SHUFFLE	COPY_MAP_DATA	143496000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5467291
+SHUFFLE	COMPRESS_BYTE_COUNT	1699411
+SHUFFLE	COPY_MAP_DATA	118873000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5441664
+SHUFFLE	COMPRESS_BYTE_COUNT	1713580
+SHUFFLE	COPY_MAP_DATA	155369000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5553106
+SHUFFLE	COMPRESS_BYTE_COUNT	1725223
+SHUFFLE	COPY_MAP_DATA	336660000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5533111
+SHUFFLE	COMPRESS_BYTE_COUNT	1720812
+SHUFFLE	COPY_MAP_DATA	151941000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5442630
+SHUFFLE	COMPRESS_BYTE_COUNT	1714320
+SHUFFLE	COPY_MAP_DATA	335494000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5536811
+SHUFFLE	COMPRESS_BYTE_COUNT	1720459
+SHUFFLE	COPY_MAP_DATA	278822000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5492145
+SHUFFLE	COMPRESS_BYTE_COUNT	1707928
+SHUFFLE	COPY_MAP_DATA	1515567000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5546323
+SHUFFLE	COMPRESS_BYTE_COUNT	1722800
+SHUFFLE	COPY_MAP_DATA	169978000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5523331
+SHUFFLE	COMPRESS_BYTE_COUNT	1717184
+SHUFFLE	COPY_MAP_DATA	1002787000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5508155
+SHUFFLE	COMPRESS_BYTE_COUNT	1712178
+SHUFFLE	COPY_MAP_DATA	325089000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5511111
+SHUFFLE	COMPRESS_BYTE_COUNT	1712674
+SHUFFLE	COPY_MAP_DATA	119932000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5457857
+SHUFFLE	COMPRESS_BYTE_COUNT	1696387
+SHUFFLE	COPY_MAP_DATA	320805000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5542617
+SHUFFLE	COMPRESS_BYTE_COUNT	1723214
+SHUFFLE	COPY_MAP_DATA	3536815000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5498448
+SHUFFLE	COMPRESS_BYTE_COUNT	1709536
+SHUFFLE	COPY_MAP_DATA	104118000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5468104
+SHUFFLE	COMPRESS_BYTE_COUNT	1699690
+SHUFFLE	COPY_MAP_DATA	87694000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5517170
+SHUFFLE	COMPRESS_BYTE_COUNT	1714858
+SHUFFLE	COPY_MAP_DATA	167352000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5398656
+SHUFFLE	COMPRESS_BYTE_COUNT	1701025
+SHUFFLE	COPY_MAP_DATA	85749000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5447624
+SHUFFLE	COMPRESS_BYTE_COUNT	1715339
+SHUFFLE	COPY_MAP_DATA	90357000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5579215
+SHUFFLE	COMPRESS_BYTE_COUNT	1713254
+SHUFFLE	COPY_MAP_DATA	149733000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5486982
+SHUFFLE	COMPRESS_BYTE_COUNT	1705528
+SHUFFLE	COPY_MAP_DATA	730299000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5530923
+SHUFFLE	COMPRESS_BYTE_COUNT	1718611
+SHUFFLE	COPY_MAP_DATA	115815000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5503229
+SHUFFLE	COMPRESS_BYTE_COUNT	1709811
+SHUFFLE	COPY_MAP_DATA	157064000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5551168
+SHUFFLE	COMPRESS_BYTE_COUNT	1725245
+SHUFFLE	COPY_MAP_DATA	832805000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5501503
+SHUFFLE	COMPRESS_BYTE_COUNT	1710753
+SHUFFLE	COPY_MAP_DATA	268182000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5514640
+SHUFFLE	COMPRESS_BYTE_COUNT	1715126
+SHUFFLE	COPY_MAP_DATA	1287297000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5503714
+SHUFFLE	COMPRESS_BYTE_COUNT	1710772
+SHUFFLE	COPY_MAP_DATA	143373000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5372927
+SHUFFLE	COMPRESS_BYTE_COUNT	1718102
+SHUFFLE	COPY_MAP_DATA	1547548000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5518119
+SHUFFLE	COMPRESS_BYTE_COUNT	1716514
+SHUFFLE	COPY_MAP_DATA	91702000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5511164
+SHUFFLE	COMPRESS_BYTE_COUNT	1691440
+SHUFFLE	COPY_MAP_DATA	216120000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5533186
+SHUFFLE	COMPRESS_BYTE_COUNT	1718893
+SHUFFLE	COPY_MAP_DATA	112862000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5534834
+SHUFFLE	COMPRESS_BYTE_COUNT	1698727
+SHUFFLE	COPY_MAP_DATA	90062000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5553780
+SHUFFLE	COMPRESS_BYTE_COUNT	1705627
+SHUFFLE	COPY_MAP_DATA	133671000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5472204
+SHUFFLE	COMPRESS_BYTE_COUNT	1701512
+SHUFFLE	COPY_MAP_DATA	114271000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5564368
+SHUFFLE	COMPRESS_BYTE_COUNT	1707755
+SHUFFLE	COPY_MAP_DATA	89708000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5550543
+SHUFFLE	COMPRESS_BYTE_COUNT	1725839
+SHUFFLE	COPY_MAP_DATA	6104282000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5536441
+SHUFFLE	COMPRESS_BYTE_COUNT	1699668
+SHUFFLE	COPY_MAP_DATA	261604000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5561386
+SHUFFLE	COMPRESS_BYTE_COUNT	1727743
+SHUFFLE	COPY_MAP_DATA	177893000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5467118
+SHUFFLE	COMPRESS_BYTE_COUNT	1699438
+SHUFFLE	COPY_MAP_DATA	131391000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5588794
+SHUFFLE	COMPRESS_BYTE_COUNT	1715239
+SHUFFLE	COPY_MAP_DATA	172176000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5474856
+SHUFFLE	COMPRESS_BYTE_COUNT	1702405
+SHUFFLE	COPY_MAP_DATA	139554000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5508271
+SHUFFLE	COMPRESS_BYTE_COUNT	1712082
+SHUFFLE	COPY_MAP_DATA	82143000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5464510
+SHUFFLE	COMPRESS_BYTE_COUNT	1720273
+SHUFFLE	COPY_MAP_DATA	137449000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5514794
+SHUFFLE	COMPRESS_BYTE_COUNT	1713357
+SHUFFLE	COPY_MAP_DATA	335547000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5505135
+SHUFFLE	COMPRESS_BYTE_COUNT	1710422
+SHUFFLE	COPY_MAP_DATA	154025000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5523450
+SHUFFLE	COMPRESS_BYTE_COUNT	1716266
+SHUFFLE	COPY_MAP_DATA	236300000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5557124
+SHUFFLE	COMPRESS_BYTE_COUNT	1705537
+SHUFFLE	COPY_MAP_DATA	533056000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5487484
+SHUFFLE	COMPRESS_BYTE_COUNT	1685906
+SHUFFLE	COPY_MAP_DATA	407763000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5448734
+SHUFFLE	COMPRESS_BYTE_COUNT	1694900
+SHUFFLE	COPY_MAP_DATA	240128000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5489609
+SHUFFLE	COMPRESS_BYTE_COUNT	1705141
+SHUFFLE	COPY_MAP_DATA	219411000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5505202
+SHUFFLE	COMPRESS_BYTE_COUNT	1712220
+SHUFFLE	COPY_MAP_DATA	340505000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5579343
+SHUFFLE	COMPRESS_BYTE_COUNT	1713073
+SHUFFLE	COPY_MAP_DATA	947650000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5555331
+SHUFFLE	COMPRESS_BYTE_COUNT	1705512
+SHUFFLE	COPY_MAP_DATA	2807746000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5435190
+SHUFFLE	COMPRESS_BYTE_COUNT	1688021
+SHUFFLE	COPY_MAP_DATA	157655000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5462572
+SHUFFLE	COMPRESS_BYTE_COUNT	1697756
+SHUFFLE	COPY_MAP_DATA	995219000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5548111
+SHUFFLE	COMPRESS_BYTE_COUNT	1703780
+SHUFFLE	COPY_MAP_DATA	4230962000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5546705
+SHUFFLE	COMPRESS_BYTE_COUNT	1702731
+SHUFFLE	COPY_MAP_DATA	1525468000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5527837
+SHUFFLE	COMPRESS_BYTE_COUNT	1697837
+SHUFFLE	COPY_MAP_DATA	98854000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5569460
+SHUFFLE	COMPRESS_BYTE_COUNT	1709116
+SHUFFLE	COPY_MAP_DATA	87840000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5559519
+SHUFFLE	COMPRESS_BYTE_COUNT	1706729
+SHUFFLE	COPY_MAP_DATA	122554000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5493693
+SHUFFLE	COMPRESS_BYTE_COUNT	1729611
+SHUFFLE	COPY_MAP_DATA	87714000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5527157
+SHUFFLE	COMPRESS_BYTE_COUNT	1696635
+SHUFFLE	COPY_MAP_DATA	96893000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5508405
+SHUFFLE	COMPRESS_BYTE_COUNT	1691179
+SHUFFLE	COPY_MAP_DATA	1601007000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5477138
+SHUFFLE	COMPRESS_BYTE_COUNT	1724018
+SHUFFLE	COPY_MAP_DATA	87230000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5544576
+SHUFFLE	COMPRESS_BYTE_COUNT	1701824
+SHUFFLE	COPY_MAP_DATA	97655000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5552350
+SHUFFLE	COMPRESS_BYTE_COUNT	1702804
+SHUFFLE	COPY_MAP_DATA	87615000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5549282
+SHUFFLE	COMPRESS_BYTE_COUNT	1702916
+SHUFFLE	COPY_MAP_DATA	642071000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5561592
+SHUFFLE	COMPRESS_BYTE_COUNT	1707512
+SHUFFLE	COPY_MAP_DATA	99638000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5515436
+SHUFFLE	COMPRESS_BYTE_COUNT	1693286
+SHUFFLE	COPY_MAP_DATA	86781000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5491201
+SHUFFLE	COMPRESS_BYTE_COUNT	1685499
+SHUFFLE	COPY_MAP_DATA	147961000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5571426
+SHUFFLE	COMPRESS_BYTE_COUNT	1709993
+SHUFFLE	COPY_MAP_DATA	109333000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5540554
+SHUFFLE	COMPRESS_BYTE_COUNT	1699462
+SHUFFLE	COPY_MAP_DATA	143568000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5541730
+SHUFFLE	COMPRESS_BYTE_COUNT	1701852
+SHUFFLE	COPY_MAP_DATA	177726000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5538159
+SHUFFLE	COMPRESS_BYTE_COUNT	1699377
+SHUFFLE	COPY_MAP_DATA	146506000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5601013
+SHUFFLE	COMPRESS_BYTE_COUNT	1718902
+SHUFFLE	COPY_MAP_DATA	216651000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5416794
+SHUFFLE	COMPRESS_BYTE_COUNT	1702646
+SHUFFLE	COPY_MAP_DATA	1456506000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5502360
+SHUFFLE	COMPRESS_BYTE_COUNT	1690224
+SHUFFLE	COPY_MAP_DATA	1085910000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5608932
+SHUFFLE	COMPRESS_BYTE_COUNT	1719657
+SHUFFLE	COPY_MAP_DATA	158043000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5595127
+SHUFFLE	COMPRESS_BYTE_COUNT	1715622
+SHUFFLE	COPY_MAP_DATA	424213000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5537098
+SHUFFLE	COMPRESS_BYTE_COUNT	1700736
+SHUFFLE	COPY_MAP_DATA	937306000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5537292
+SHUFFLE	COMPRESS_BYTE_COUNT	1698781
+SHUFFLE	COPY_MAP_DATA	679178000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5536062
+SHUFFLE	COMPRESS_BYTE_COUNT	1698275
+SHUFFLE	COPY_MAP_DATA	89951000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5539195
+SHUFFLE	COMPRESS_BYTE_COUNT	1701339
+SHUFFLE	COPY_MAP_DATA	108015000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5577041
+SHUFFLE	COMPRESS_BYTE_COUNT	1711430
+SHUFFLE	COPY_MAP_DATA	1185933000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5555073
+SHUFFLE	COMPRESS_BYTE_COUNT	1705464
+SHUFFLE	COPY_MAP_DATA	94848000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5546257
+SHUFFLE	COMPRESS_BYTE_COUNT	1703391
+SHUFFLE	COPY_MAP_DATA	1432131000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5564722
+SHUFFLE	COMPRESS_BYTE_COUNT	1708172
+SHUFFLE	COPY_MAP_DATA	132856000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5579423
+SHUFFLE	COMPRESS_BYTE_COUNT	1711681
+SHUFFLE	COPY_MAP_DATA	92560000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5638400
+SHUFFLE	COMPRESS_BYTE_COUNT	1729368
+SHUFFLE	COPY_MAP_DATA	1992071000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5528432
+SHUFFLE	COMPRESS_BYTE_COUNT	1697425
+SHUFFLE	COPY_MAP_DATA	2635158000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5538841
+SHUFFLE	COMPRESS_BYTE_COUNT	1700040
+SHUFFLE	COPY_MAP_DATA	851891000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5572696
+SHUFFLE	COMPRESS_BYTE_COUNT	1710907
+SHUFFLE	COPY_MAP_DATA	89128000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5570038
+SHUFFLE	COMPRESS_BYTE_COUNT	1709467
+SHUFFLE	COPY_MAP_DATA	334465000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5537240
+SHUFFLE	COMPRESS_BYTE_COUNT	1699631
+SHUFFLE	COPY_MAP_DATA	83769000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5523645
+SHUFFLE	COMPRESS_BYTE_COUNT	1717076
+SHUFFLE	COPY_MAP_DATA	87463000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5494973
+SHUFFLE	COMPRESS_BYTE_COUNT	1707834
+SHUFFLE	COPY_MAP_DATA	514933000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5570631
+SHUFFLE	COMPRESS_BYTE_COUNT	1710430
+SHUFFLE	COPY_MAP_DATA	247652000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5568612
+SHUFFLE	COMPRESS_BYTE_COUNT	1710049
+SHUFFLE	COPY_MAP_DATA	642220000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5529868
+SHUFFLE	COMPRESS_BYTE_COUNT	1697533
+SHUFFLE	COPY_MAP_DATA	1054977000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5487304
+SHUFFLE	COMPRESS_BYTE_COUNT	1704671
+SHUFFLE	COPY_MAP_DATA	146894000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5598597
+SHUFFLE	COMPRESS_BYTE_COUNT	1717982
+SHUFFLE	COPY_MAP_DATA	99346000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5548976
+SHUFFLE	COMPRESS_BYTE_COUNT	1702944
+SHUFFLE	COPY_MAP_DATA	655859000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5556979
+SHUFFLE	COMPRESS_BYTE_COUNT	1705404
+SHUFFLE	COPY_MAP_DATA	1365671000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5555952
+SHUFFLE	COMPRESS_BYTE_COUNT	1707044
+SHUFFLE	COPY_MAP_DATA	8093133000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5523431
+SHUFFLE	COMPRESS_BYTE_COUNT	1695357
+SHUFFLE	COPY_MAP_DATA	548890000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5553091
+SHUFFLE	COMPRESS_BYTE_COUNT	1704336
+SHUFFLE	COPY_MAP_DATA	109496000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5509134
+SHUFFLE	COMPRESS_BYTE_COUNT	1711833
+SHUFFLE	COPY_MAP_DATA	154870000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5576865
+SHUFFLE	COMPRESS_BYTE_COUNT	1711868
+SHUFFLE	COPY_MAP_DATA	89946000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5579124
+SHUFFLE	COMPRESS_BYTE_COUNT	1712202
+SHUFFLE	COPY_MAP_DATA	109066000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5538427
+SHUFFLE	COMPRESS_BYTE_COUNT	1699748
+SHUFFLE	COPY_MAP_DATA	432829000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5596238
+SHUFFLE	COMPRESS_BYTE_COUNT	1717888
+SHUFFLE	COPY_MAP_DATA	12052291000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5613188
+SHUFFLE	COMPRESS_BYTE_COUNT	1722126
+SHUFFLE	COPY_MAP_DATA	215742000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5580263
+SHUFFLE	COMPRESS_BYTE_COUNT	1713601
+SHUFFLE	COPY_MAP_DATA	101532000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5599763
+SHUFFLE	COMPRESS_BYTE_COUNT	1717003
+SHUFFLE	COPY_MAP_DATA	436284000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5465126
+SHUFFLE	COMPRESS_BYTE_COUNT	1698281
+SHUFFLE	COPY_MAP_DATA	248199000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5473488
+SHUFFLE	COMPRESS_BYTE_COUNT	1701221
+SHUFFLE	COPY_MAP_DATA	144930000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5489717
+SHUFFLE	COMPRESS_BYTE_COUNT	1706993
+SHUFFLE	COPY_MAP_DATA	148185000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5530759
+SHUFFLE	COMPRESS_BYTE_COUNT	1717880
+SHUFFLE	COPY_MAP_DATA	103082000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5559038
+SHUFFLE	COMPRESS_BYTE_COUNT	1706174
+SHUFFLE	COPY_MAP_DATA	2893050000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5548976
+SHUFFLE	COMPRESS_BYTE_COUNT	1724477
+SHUFFLE	COPY_MAP_DATA	95562000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5521685
+SHUFFLE	COMPRESS_BYTE_COUNT	1715938
+SHUFFLE	COPY_MAP_DATA	89195000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5560684
+SHUFFLE	COMPRESS_BYTE_COUNT	1729576
+SHUFFLE	COPY_MAP_DATA	89122000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5522485
+SHUFFLE	COMPRESS_BYTE_COUNT	1717351
+SHUFFLE	COPY_MAP_DATA	441838000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5481456
+SHUFFLE	COMPRESS_BYTE_COUNT	1704193
+SHUFFLE	COPY_MAP_DATA	92682000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5507849
+SHUFFLE	COMPRESS_BYTE_COUNT	1711862
+SHUFFLE	COPY_MAP_DATA	88574000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5535423
+SHUFFLE	COMPRESS_BYTE_COUNT	1720534
+SHUFFLE	COPY_MAP_DATA	114818000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5548523
+SHUFFLE	COMPRESS_BYTE_COUNT	1725287
+SHUFFLE	COPY_MAP_DATA	97854000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5473956
+SHUFFLE	COMPRESS_BYTE_COUNT	1702204
+SHUFFLE	COPY_MAP_DATA	97934000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5561101
+SHUFFLE	COMPRESS_BYTE_COUNT	1708157
+SHUFFLE	COPY_MAP_DATA	95431000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5513990
+SHUFFLE	COMPRESS_BYTE_COUNT	1714418
+SHUFFLE	COPY_MAP_DATA	94769000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5499176
+SHUFFLE	COMPRESS_BYTE_COUNT	1709218
+SHUFFLE	COPY_MAP_DATA	116120000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5537738
+SHUFFLE	COMPRESS_BYTE_COUNT	1700211
+SHUFFLE	COPY_MAP_DATA	94308000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5519063
+SHUFFLE	COMPRESS_BYTE_COUNT	1714839
+SHUFFLE	COPY_MAP_DATA	102901000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5470003
+SHUFFLE	COMPRESS_BYTE_COUNT	1700196
+SHUFFLE	COPY_MAP_DATA	514242000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5478763
+SHUFFLE	COMPRESS_BYTE_COUNT	1703491
+SHUFFLE	COPY_MAP_DATA	1127887000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5527516
+SHUFFLE	COMPRESS_BYTE_COUNT	1718316
+SHUFFLE	COPY_MAP_DATA	134875000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5504254
+SHUFFLE	COMPRESS_BYTE_COUNT	1712041
+SHUFFLE	COPY_MAP_DATA	3103702000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5531709
+SHUFFLE	COMPRESS_BYTE_COUNT	1719475
+SHUFFLE	COPY_MAP_DATA	134581000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5506141
+SHUFFLE	COMPRESS_BYTE_COUNT	1710784
+SHUFFLE	COPY_MAP_DATA	479559000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5531598
+SHUFFLE	COMPRESS_BYTE_COUNT	1719615
+SHUFFLE	COPY_MAP_DATA	5673189000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5535978
+SHUFFLE	COMPRESS_BYTE_COUNT	1719556
+SHUFFLE	COPY_MAP_DATA	93415000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5534818
+SHUFFLE	COMPRESS_BYTE_COUNT	1719669
+SHUFFLE	COPY_MAP_DATA	106635000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5500131
+SHUFFLE	COMPRESS_BYTE_COUNT	1710975
+SHUFFLE	COPY_MAP_DATA	704833000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5541378
+SHUFFLE	COMPRESS_BYTE_COUNT	1726594
+SHUFFLE	COPY_MAP_DATA	112110000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5495964
+SHUFFLE	COMPRESS_BYTE_COUNT	1707431
+SHUFFLE	COPY_MAP_DATA	103931000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5598599
+SHUFFLE	COMPRESS_BYTE_COUNT	1740136
+SHUFFLE	COPY_MAP_DATA	115451000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5543974
+SHUFFLE	COMPRESS_BYTE_COUNT	1726757
+SHUFFLE	COPY_MAP_DATA	186118000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5593281
+SHUFFLE	COMPRESS_BYTE_COUNT	1725924
+SHUFFLE	COPY_MAP_DATA	84048000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5551681
+SHUFFLE	COMPRESS_BYTE_COUNT	1728228
+SHUFFLE	COPY_MAP_DATA	83768000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5480878
+SHUFFLE	COMPRESS_BYTE_COUNT	1703249
+SHUFFLE	COPY_MAP_DATA	1036274000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5544269
+SHUFFLE	COMPRESS_BYTE_COUNT	1728386
+SHUFFLE	COPY_MAP_DATA	202306000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5564940
+SHUFFLE	COMPRESS_BYTE_COUNT	1733164
+SHUFFLE	COPY_MAP_DATA	709998000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5604158
+SHUFFLE	COMPRESS_BYTE_COUNT	1728461
+SHUFFLE	COPY_MAP_DATA	1012262000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5536446
+SHUFFLE	COMPRESS_BYTE_COUNT	1725629
+SHUFFLE	COPY_MAP_DATA	517262000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5571543
+SHUFFLE	COMPRESS_BYTE_COUNT	1720084
+SHUFFLE	COPY_MAP_DATA	125314000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5563272
+SHUFFLE	COMPRESS_BYTE_COUNT	1733784
+SHUFFLE	COPY_MAP_DATA	1360214000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5610258
+SHUFFLE	COMPRESS_BYTE_COUNT	1729764
+SHUFFLE	COPY_MAP_DATA	246849000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5561121
+SHUFFLE	COMPRESS_BYTE_COUNT	1728535
+SHUFFLE	COPY_MAP_DATA	307315000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5505540
+SHUFFLE	COMPRESS_BYTE_COUNT	1710349
+SHUFFLE	COPY_MAP_DATA	1433588000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5601350
+SHUFFLE	COMPRESS_BYTE_COUNT	1729089
+SHUFFLE	COPY_MAP_DATA	98922000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4751265
+SHUFFLE	COMPRESS_BYTE_COUNT	1458174
+SHUFFLE	COPY_MAP_DATA	76873000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5552972
+SHUFFLE	COMPRESS_BYTE_COUNT	1728531
+SHUFFLE	COPY_MAP_DATA	433055000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4483143
+SHUFFLE	COMPRESS_BYTE_COUNT	1393081
+SHUFFLE	COPY_MAP_DATA	166024000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4754765
+SHUFFLE	COMPRESS_BYTE_COUNT	1458931
+SHUFFLE	COPY_MAP_DATA	105823000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5593905
+SHUFFLE	COMPRESS_BYTE_COUNT	1726520
+SHUFFLE	COPY_MAP_DATA	201149000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4532893
+SHUFFLE	COMPRESS_BYTE_COUNT	1409260
+SHUFFLE	COPY_MAP_DATA	95345000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4711350
+SHUFFLE	COMPRESS_BYTE_COUNT	1446681
+SHUFFLE	COPY_MAP_DATA	107822000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5568904
+SHUFFLE	COMPRESS_BYTE_COUNT	1734744
+SHUFFLE	COPY_MAP_DATA	433784000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5592555
+SHUFFLE	COMPRESS_BYTE_COUNT	1725666
+SHUFFLE	COPY_MAP_DATA	90653000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5587462
+SHUFFLE	COMPRESS_BYTE_COUNT	1725144
+SHUFFLE	COPY_MAP_DATA	105124000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5522968
+SHUFFLE	COMPRESS_BYTE_COUNT	1738023
+SHUFFLE	COPY_MAP_DATA	287559000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5601827
+SHUFFLE	COMPRESS_BYTE_COUNT	1729035
+SHUFFLE	COPY_MAP_DATA	144846000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5563037
+SHUFFLE	COMPRESS_BYTE_COUNT	1733309
+SHUFFLE	COPY_MAP_DATA	270867000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4429615
+SHUFFLE	COMPRESS_BYTE_COUNT	1376191
+SHUFFLE	COPY_MAP_DATA	69162000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5493766
+SHUFFLE	COMPRESS_BYTE_COUNT	1742671
+SHUFFLE	COPY_MAP_DATA	132924000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5607338
+SHUFFLE	COMPRESS_BYTE_COUNT	1730854
+SHUFFLE	COPY_MAP_DATA	122424000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5582815
+SHUFFLE	COMPRESS_BYTE_COUNT	1722589
+SHUFFLE	COPY_MAP_DATA	88449000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4446781
+SHUFFLE	COMPRESS_BYTE_COUNT	1382519
+SHUFFLE	COPY_MAP_DATA	185002000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1740625
+SHUFFLE	COMPRESS_BYTE_COUNT	538467
+SHUFFLE	COPY_MAP_DATA	529113000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5552400
+SHUFFLE	COMPRESS_BYTE_COUNT	1730773
+SHUFFLE	COPY_MAP_DATA	1668130000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5575655
+SHUFFLE	COMPRESS_BYTE_COUNT	1720497
+SHUFFLE	COPY_MAP_DATA	202534000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5589266
+SHUFFLE	COMPRESS_BYTE_COUNT	1725288
+SHUFFLE	COPY_MAP_DATA	1200734000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1748488
+SHUFFLE	COMPRESS_BYTE_COUNT	539903
+SHUFFLE	COPY_MAP_DATA	268207000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4765896
+SHUFFLE	COMPRESS_BYTE_COUNT	1463268
+SHUFFLE	COPY_MAP_DATA	247169000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4746963
+SHUFFLE	COMPRESS_BYTE_COUNT	1457507
+SHUFFLE	COPY_MAP_DATA	77182000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5548141
+SHUFFLE	COMPRESS_BYTE_COUNT	1729409
+SHUFFLE	COPY_MAP_DATA	112438000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4459967
+SHUFFLE	COMPRESS_BYTE_COUNT	1385944
+SHUFFLE	COPY_MAP_DATA	75438000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4419848
+SHUFFLE	COMPRESS_BYTE_COUNT	1374975
+SHUFFLE	COPY_MAP_DATA	74300000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4492169
+SHUFFLE	COMPRESS_BYTE_COUNT	1395540
+SHUFFLE	COPY_MAP_DATA	143473000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4694480
+SHUFFLE	COMPRESS_BYTE_COUNT	1441998
+SHUFFLE	COPY_MAP_DATA	84020000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1739848
+SHUFFLE	COMPRESS_BYTE_COUNT	538079
+SHUFFLE	COPY_MAP_DATA	29973000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5552948
+SHUFFLE	COMPRESS_BYTE_COUNT	1729062
+SHUFFLE	COPY_MAP_DATA	89799000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1671473
+SHUFFLE	COMPRESS_BYTE_COUNT	521950
+SHUFFLE	COPY_MAP_DATA	213418000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1735221
+SHUFFLE	COMPRESS_BYTE_COUNT	537323
+SHUFFLE	COPY_MAP_DATA	32382000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4776227
+SHUFFLE	COMPRESS_BYTE_COUNT	1465622
+SHUFFLE	COPY_MAP_DATA	100575000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4507152
+SHUFFLE	COMPRESS_BYTE_COUNT	1400155
+SHUFFLE	COPY_MAP_DATA	78867000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4398917
+SHUFFLE	COMPRESS_BYTE_COUNT	1366349
+SHUFFLE	COPY_MAP_DATA	294315000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5546087
+SHUFFLE	COMPRESS_BYTE_COUNT	1727787
+SHUFFLE	COPY_MAP_DATA	83724000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4752525
+SHUFFLE	COMPRESS_BYTE_COUNT	1459901
+SHUFFLE	COPY_MAP_DATA	856740000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1668531
+SHUFFLE	COMPRESS_BYTE_COUNT	520006
+SHUFFLE	COPY_MAP_DATA	295689000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1736347
+SHUFFLE	COMPRESS_BYTE_COUNT	537460
+SHUFFLE	COPY_MAP_DATA	224967000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1744353
+SHUFFLE	COMPRESS_BYTE_COUNT	538715
+SHUFFLE	COPY_MAP_DATA	9031170000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5561551
+SHUFFLE	COMPRESS_BYTE_COUNT	1733178
+SHUFFLE	COPY_MAP_DATA	161703000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1744396
+SHUFFLE	COMPRESS_BYTE_COUNT	538547
+SHUFFLE	COPY_MAP_DATA	30914000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4741128
+SHUFFLE	COMPRESS_BYTE_COUNT	1455608
+SHUFFLE	COPY_MAP_DATA	827786000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4720280
+SHUFFLE	COMPRESS_BYTE_COUNT	1448883
+SHUFFLE	COPY_MAP_DATA	80085000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1733174
+SHUFFLE	COMPRESS_BYTE_COUNT	536232
+SHUFFLE	COPY_MAP_DATA	30901000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4715328
+SHUFFLE	COMPRESS_BYTE_COUNT	1447730
+SHUFFLE	COPY_MAP_DATA	271418000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4147693
+SHUFFLE	COMPRESS_BYTE_COUNT	1306103
+SHUFFLE	COPY_MAP_DATA	66861000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1732649
+SHUFFLE	COMPRESS_BYTE_COUNT	536083
+SHUFFLE	COPY_MAP_DATA	29037000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1662972
+SHUFFLE	COMPRESS_BYTE_COUNT	518959
+SHUFFLE	COPY_MAP_DATA	27985000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4686741
+SHUFFLE	COMPRESS_BYTE_COUNT	1439134
+SHUFFLE	COPY_MAP_DATA	88500000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4421795
+SHUFFLE	COMPRESS_BYTE_COUNT	1374471
+SHUFFLE	COPY_MAP_DATA	90225000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1744144
+SHUFFLE	COMPRESS_BYTE_COUNT	539217
+SHUFFLE	COPY_MAP_DATA	27971000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1659433
+SHUFFLE	COMPRESS_BYTE_COUNT	517413
+SHUFFLE	COPY_MAP_DATA	29887000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1735206
+SHUFFLE	COMPRESS_BYTE_COUNT	536313
+SHUFFLE	COPY_MAP_DATA	33032000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1661529
+SHUFFLE	COMPRESS_BYTE_COUNT	518683
+SHUFFLE	COPY_MAP_DATA	31222000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1657292
+SHUFFLE	COMPRESS_BYTE_COUNT	517294
+SHUFFLE	COPY_MAP_DATA	28004000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4269110
+SHUFFLE	COMPRESS_BYTE_COUNT	1327216
+SHUFFLE	COPY_MAP_DATA	521958000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4497181
+SHUFFLE	COMPRESS_BYTE_COUNT	1396495
+SHUFFLE	COPY_MAP_DATA	643696000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1669847
+SHUFFLE	COMPRESS_BYTE_COUNT	521307
+SHUFFLE	COPY_MAP_DATA	38622000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1747483
+SHUFFLE	COMPRESS_BYTE_COUNT	540050
+SHUFFLE	COPY_MAP_DATA	40858000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1690761
+SHUFFLE	COMPRESS_BYTE_COUNT	522841
+SHUFFLE	COPY_MAP_DATA	30209000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1658010
+SHUFFLE	COMPRESS_BYTE_COUNT	517607
+SHUFFLE	COPY_MAP_DATA	29602000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1616405
+SHUFFLE	COMPRESS_BYTE_COUNT	504626
+SHUFFLE	COPY_MAP_DATA	28545000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1666469
+SHUFFLE	COMPRESS_BYTE_COUNT	520029
+SHUFFLE	COPY_MAP_DATA	29621000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1735208
+SHUFFLE	COMPRESS_BYTE_COUNT	536628
+SHUFFLE	COPY_MAP_DATA	653214000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1673604
+SHUFFLE	COMPRESS_BYTE_COUNT	522313
+SHUFFLE	COPY_MAP_DATA	28870000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4450626
+SHUFFLE	COMPRESS_BYTE_COUNT	1383076
+SHUFFLE	COPY_MAP_DATA	115520000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1670900
+SHUFFLE	COMPRESS_BYTE_COUNT	521308
+SHUFFLE	COPY_MAP_DATA	65293000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4743260
+SHUFFLE	COMPRESS_BYTE_COUNT	1455010
+SHUFFLE	COPY_MAP_DATA	212427000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1663657
+SHUFFLE	COMPRESS_BYTE_COUNT	518621
+SHUFFLE	COPY_MAP_DATA	26883000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1667923
+SHUFFLE	COMPRESS_BYTE_COUNT	520854
+SHUFFLE	COPY_MAP_DATA	2389329000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4439562
+SHUFFLE	COMPRESS_BYTE_COUNT	1378723
+SHUFFLE	COPY_MAP_DATA	1701698000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1662117
+SHUFFLE	COMPRESS_BYTE_COUNT	519086
+SHUFFLE	COPY_MAP_DATA	36432000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1579142
+SHUFFLE	COMPRESS_BYTE_COUNT	498409
+SHUFFLE	COPY_MAP_DATA	25495000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4504326
+SHUFFLE	COMPRESS_BYTE_COUNT	1382544
+SHUFFLE	COPY_MAP_DATA	77857000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4493631
+SHUFFLE	COMPRESS_BYTE_COUNT	1396681
+SHUFFLE	COPY_MAP_DATA	874516000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	508415593000
+MERGE	READ_WRITE	499286638000
+MERGE	READ_WRITE_COUNT	8
+MERGE	COMBINE	0
+MERGE	WRITE	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	9292212000
+SORT	READ_WRITE	8784471000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	149483088
+REDUCE	SETUP	431000
+REDUCE	SETUP_MEM	149483088
+REDUCE	CLEANUP	40000
+REDUCE	CLEANUP_MEM	203918512
+REDUCE	TOTAL_RUN	685590408669
+REDUCE	READ	63127054000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	612667236669
+REDUCE	WRITE	243423408000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	55885616
+REDUCE	VALUE_BYTE_COUNT	1647679359
+REDUCE	REDUCE_MEM	203918512
+REDUCE	WRITE	133191000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	1386579835597
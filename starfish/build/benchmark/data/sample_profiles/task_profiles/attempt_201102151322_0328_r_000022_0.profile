@@ -0,0 +1,989 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5516593
+SHUFFLE	COMPRESS_BYTE_COUNT	1715618
+SHUFFLE	COPY_MAP_DATA	363913000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5481902
+SHUFFLE	COMPRESS_BYTE_COUNT	1725292
+SHUFFLE	COPY_MAP_DATA	155501000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5580853
+SHUFFLE	COMPRESS_BYTE_COUNT	1734075
+SHUFFLE	COPY_MAP_DATA	1928329000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5550088
+SHUFFLE	COMPRESS_BYTE_COUNT	1724673
+SHUFFLE	COPY_MAP_DATA	236401000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5419272
+SHUFFLE	COMPRESS_BYTE_COUNT	1684793
+SHUFFLE	COPY_MAP_DATA	259527000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5447313
+SHUFFLE	COMPRESS_BYTE_COUNT	1715760
+SHUFFLE	COPY_MAP_DATA	239611000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5540116
+SHUFFLE	COMPRESS_BYTE_COUNT	1721929
+SHUFFLE	COPY_MAP_DATA	170782000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5524071
+SHUFFLE	COMPRESS_BYTE_COUNT	1716824
+SHUFFLE	COPY_MAP_DATA	109372000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5566140
+SHUFFLE	COMPRESS_BYTE_COUNT	1729804
+SHUFFLE	COPY_MAP_DATA	559447000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5499721
+SHUFFLE	COMPRESS_BYTE_COUNT	1709792
+SHUFFLE	COPY_MAP_DATA	222798000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5517791
+SHUFFLE	COMPRESS_BYTE_COUNT	1714476
+SHUFFLE	COPY_MAP_DATA	248607000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5524584
+SHUFFLE	COMPRESS_BYTE_COUNT	1717606
+SHUFFLE	COPY_MAP_DATA	94972000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5529952
+SHUFFLE	COMPRESS_BYTE_COUNT	1719382
+SHUFFLE	COPY_MAP_DATA	147983000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5525275
+SHUFFLE	COMPRESS_BYTE_COUNT	1717612
+SHUFFLE	COPY_MAP_DATA	412532000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5501090
+SHUFFLE	COMPRESS_BYTE_COUNT	1710995
+SHUFFLE	COPY_MAP_DATA	170575000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5558476
+SHUFFLE	COMPRESS_BYTE_COUNT	1706144
+SHUFFLE	COPY_MAP_DATA	653660000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5512877
+SHUFFLE	COMPRESS_BYTE_COUNT	1713020
+SHUFFLE	COPY_MAP_DATA	90775000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5535697
+SHUFFLE	COMPRESS_BYTE_COUNT	1720941
+SHUFFLE	COPY_MAP_DATA	105810000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5579567
+SHUFFLE	COMPRESS_BYTE_COUNT	1733882
+SHUFFLE	COPY_MAP_DATA	232320000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5505821
+SHUFFLE	COMPRESS_BYTE_COUNT	1711440
+SHUFFLE	COPY_MAP_DATA	165694000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5565315
+SHUFFLE	COMPRESS_BYTE_COUNT	1729033
+SHUFFLE	COPY_MAP_DATA	369441000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5481053
+SHUFFLE	COMPRESS_BYTE_COUNT	1725009
+SHUFFLE	COPY_MAP_DATA	171981000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5458477
+SHUFFLE	COMPRESS_BYTE_COUNT	1696203
+SHUFFLE	COPY_MAP_DATA	94777000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5473489
+SHUFFLE	COMPRESS_BYTE_COUNT	1702000
+SHUFFLE	COPY_MAP_DATA	333250000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5505568
+SHUFFLE	COMPRESS_BYTE_COUNT	1710205
+SHUFFLE	COPY_MAP_DATA	221638000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5439083
+SHUFFLE	COMPRESS_BYTE_COUNT	1713198
+SHUFFLE	COPY_MAP_DATA	2409814000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5492324
+SHUFFLE	COMPRESS_BYTE_COUNT	1707305
+SHUFFLE	COPY_MAP_DATA	405446000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5498940
+SHUFFLE	COMPRESS_BYTE_COUNT	1708576
+SHUFFLE	COPY_MAP_DATA	232092000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5526032
+SHUFFLE	COMPRESS_BYTE_COUNT	1716954
+SHUFFLE	COPY_MAP_DATA	1212158000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5458411
+SHUFFLE	COMPRESS_BYTE_COUNT	1744392
+SHUFFLE	COPY_MAP_DATA	1586828000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5520393
+SHUFFLE	COMPRESS_BYTE_COUNT	1694775
+SHUFFLE	COPY_MAP_DATA	84888000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5525339
+SHUFFLE	COMPRESS_BYTE_COUNT	1717452
+SHUFFLE	COPY_MAP_DATA	1227758000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5553065
+SHUFFLE	COMPRESS_BYTE_COUNT	1725901
+SHUFFLE	COPY_MAP_DATA	476315000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5553130
+SHUFFLE	COMPRESS_BYTE_COUNT	1704089
+SHUFFLE	COPY_MAP_DATA	1801152000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5597334
+SHUFFLE	COMPRESS_BYTE_COUNT	1718219
+SHUFFLE	COPY_MAP_DATA	182523000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5553371
+SHUFFLE	COMPRESS_BYTE_COUNT	1705099
+SHUFFLE	COPY_MAP_DATA	1120161000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5468614
+SHUFFLE	COMPRESS_BYTE_COUNT	1701247
+SHUFFLE	COPY_MAP_DATA	230953000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5583223
+SHUFFLE	COMPRESS_BYTE_COUNT	1713871
+SHUFFLE	COPY_MAP_DATA	254232000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5528579
+SHUFFLE	COMPRESS_BYTE_COUNT	1719217
+SHUFFLE	COPY_MAP_DATA	122574000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5553349
+SHUFFLE	COMPRESS_BYTE_COUNT	1725961
+SHUFFLE	COPY_MAP_DATA	96371000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5512699
+SHUFFLE	COMPRESS_BYTE_COUNT	1713181
+SHUFFLE	COPY_MAP_DATA	1335366000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5576901
+SHUFFLE	COMPRESS_BYTE_COUNT	1733467
+SHUFFLE	COPY_MAP_DATA	3549765000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5540382
+SHUFFLE	COMPRESS_BYTE_COUNT	1700409
+SHUFFLE	COPY_MAP_DATA	350274000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5485616
+SHUFFLE	COMPRESS_BYTE_COUNT	1704817
+SHUFFLE	COPY_MAP_DATA	163544000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5538610
+SHUFFLE	COMPRESS_BYTE_COUNT	1721157
+SHUFFLE	COPY_MAP_DATA	453715000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5566254
+SHUFFLE	COMPRESS_BYTE_COUNT	1729594
+SHUFFLE	COPY_MAP_DATA	1277919000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5542241
+SHUFFLE	COMPRESS_BYTE_COUNT	1722354
+SHUFFLE	COPY_MAP_DATA	572812000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5441905
+SHUFFLE	COMPRESS_BYTE_COUNT	1712894
+SHUFFLE	COPY_MAP_DATA	374066000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5560029
+SHUFFLE	COMPRESS_BYTE_COUNT	1706496
+SHUFFLE	COPY_MAP_DATA	147413000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5492951
+SHUFFLE	COMPRESS_BYTE_COUNT	1707003
+SHUFFLE	COPY_MAP_DATA	1022190000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5501817
+SHUFFLE	COMPRESS_BYTE_COUNT	1709317
+SHUFFLE	COPY_MAP_DATA	85040000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5516585
+SHUFFLE	COMPRESS_BYTE_COUNT	1713967
+SHUFFLE	COPY_MAP_DATA	358493000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5562756
+SHUFFLE	COMPRESS_BYTE_COUNT	1708044
+SHUFFLE	COPY_MAP_DATA	2737685000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5538838
+SHUFFLE	COMPRESS_BYTE_COUNT	1699580
+SHUFFLE	COPY_MAP_DATA	154224000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5532267
+SHUFFLE	COMPRESS_BYTE_COUNT	1716189
+SHUFFLE	COPY_MAP_DATA	10784231000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5599541
+SHUFFLE	COMPRESS_BYTE_COUNT	1718328
+SHUFFLE	COPY_MAP_DATA	1356044000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5564234
+SHUFFLE	COMPRESS_BYTE_COUNT	1728648
+SHUFFLE	COPY_MAP_DATA	810610000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5587406
+SHUFFLE	COMPRESS_BYTE_COUNT	1715049
+SHUFFLE	COPY_MAP_DATA	554258000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5527753
+SHUFFLE	COMPRESS_BYTE_COUNT	1696391
+SHUFFLE	COPY_MAP_DATA	88546000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5557209
+SHUFFLE	COMPRESS_BYTE_COUNT	1704684
+SHUFFLE	COPY_MAP_DATA	140220000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5557869
+SHUFFLE	COMPRESS_BYTE_COUNT	1706969
+SHUFFLE	COPY_MAP_DATA	128090000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5528424
+SHUFFLE	COMPRESS_BYTE_COUNT	1697370
+SHUFFLE	COPY_MAP_DATA	131077000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5422147
+SHUFFLE	COMPRESS_BYTE_COUNT	1706767
+SHUFFLE	COPY_MAP_DATA	87723000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5546700
+SHUFFLE	COMPRESS_BYTE_COUNT	1702841
+SHUFFLE	COPY_MAP_DATA	88098000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5523975
+SHUFFLE	COMPRESS_BYTE_COUNT	1694015
+SHUFFLE	COPY_MAP_DATA	88751000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5505273
+SHUFFLE	COMPRESS_BYTE_COUNT	1733681
+SHUFFLE	COPY_MAP_DATA	250601000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5579429
+SHUFFLE	COMPRESS_BYTE_COUNT	1712373
+SHUFFLE	COPY_MAP_DATA	99428000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5595389
+SHUFFLE	COMPRESS_BYTE_COUNT	1716977
+SHUFFLE	COPY_MAP_DATA	235965000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5524138
+SHUFFLE	COMPRESS_BYTE_COUNT	1696692
+SHUFFLE	COPY_MAP_DATA	103057000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5569715
+SHUFFLE	COMPRESS_BYTE_COUNT	1709887
+SHUFFLE	COPY_MAP_DATA	139426000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5596651
+SHUFFLE	COMPRESS_BYTE_COUNT	1718157
+SHUFFLE	COPY_MAP_DATA	89348000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5516557
+SHUFFLE	COMPRESS_BYTE_COUNT	1693862
+SHUFFLE	COPY_MAP_DATA	88457000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5496018
+SHUFFLE	COMPRESS_BYTE_COUNT	1687527
+SHUFFLE	COPY_MAP_DATA	112720000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5531169
+SHUFFLE	COMPRESS_BYTE_COUNT	1697220
+SHUFFLE	COPY_MAP_DATA	621520000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5600986
+SHUFFLE	COMPRESS_BYTE_COUNT	1717914
+SHUFFLE	COPY_MAP_DATA	872928000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5553369
+SHUFFLE	COMPRESS_BYTE_COUNT	1705338
+SHUFFLE	COPY_MAP_DATA	733310000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5548846
+SHUFFLE	COMPRESS_BYTE_COUNT	1701908
+SHUFFLE	COPY_MAP_DATA	84928000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5514844
+SHUFFLE	COMPRESS_BYTE_COUNT	1732283
+SHUFFLE	COPY_MAP_DATA	3118156000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5544880
+SHUFFLE	COMPRESS_BYTE_COUNT	1702039
+SHUFFLE	COPY_MAP_DATA	90185000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5538586
+SHUFFLE	COMPRESS_BYTE_COUNT	1699703
+SHUFFLE	COPY_MAP_DATA	2001013000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5509614
+SHUFFLE	COMPRESS_BYTE_COUNT	1690571
+SHUFFLE	COPY_MAP_DATA	104845000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5514444
+SHUFFLE	COMPRESS_BYTE_COUNT	1693475
+SHUFFLE	COPY_MAP_DATA	1640388000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5550646
+SHUFFLE	COMPRESS_BYTE_COUNT	1704087
+SHUFFLE	COPY_MAP_DATA	118784000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5510736
+SHUFFLE	COMPRESS_BYTE_COUNT	1691080
+SHUFFLE	COPY_MAP_DATA	89089000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5570832
+SHUFFLE	COMPRESS_BYTE_COUNT	1709431
+SHUFFLE	COPY_MAP_DATA	6626145000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5556729
+SHUFFLE	COMPRESS_BYTE_COUNT	1704886
+SHUFFLE	COPY_MAP_DATA	85333000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5572774
+SHUFFLE	COMPRESS_BYTE_COUNT	1711138
+SHUFFLE	COPY_MAP_DATA	114850000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5591174
+SHUFFLE	COMPRESS_BYTE_COUNT	1716293
+SHUFFLE	COPY_MAP_DATA	221382000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5555092
+SHUFFLE	COMPRESS_BYTE_COUNT	1705712
+SHUFFLE	COPY_MAP_DATA	852172000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5533052
+SHUFFLE	COMPRESS_BYTE_COUNT	1698759
+SHUFFLE	COPY_MAP_DATA	364825000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5582862
+SHUFFLE	COMPRESS_BYTE_COUNT	1714664
+SHUFFLE	COPY_MAP_DATA	591515000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5556919
+SHUFFLE	COMPRESS_BYTE_COUNT	1705314
+SHUFFLE	COPY_MAP_DATA	87202000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5549387
+SHUFFLE	COMPRESS_BYTE_COUNT	1704478
+SHUFFLE	COPY_MAP_DATA	338034000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5571059
+SHUFFLE	COMPRESS_BYTE_COUNT	1710737
+SHUFFLE	COPY_MAP_DATA	92489000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5489950
+SHUFFLE	COMPRESS_BYTE_COUNT	1685330
+SHUFFLE	COPY_MAP_DATA	84043000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5574659
+SHUFFLE	COMPRESS_BYTE_COUNT	1710485
+SHUFFLE	COPY_MAP_DATA	99176000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5527453
+SHUFFLE	COMPRESS_BYTE_COUNT	1718377
+SHUFFLE	COPY_MAP_DATA	153601000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5563463
+SHUFFLE	COMPRESS_BYTE_COUNT	1707322
+SHUFFLE	COPY_MAP_DATA	96905000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5490722
+SHUFFLE	COMPRESS_BYTE_COUNT	1706423
+SHUFFLE	COPY_MAP_DATA	1850719000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5574066
+SHUFFLE	COMPRESS_BYTE_COUNT	1711459
+SHUFFLE	COPY_MAP_DATA	156157000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5577389
+SHUFFLE	COMPRESS_BYTE_COUNT	1711750
+SHUFFLE	COPY_MAP_DATA	120849000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5540077
+SHUFFLE	COMPRESS_BYTE_COUNT	1721203
+SHUFFLE	COPY_MAP_DATA	89417000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5515835
+SHUFFLE	COMPRESS_BYTE_COUNT	1693509
+SHUFFLE	COPY_MAP_DATA	103961000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5553158
+SHUFFLE	COMPRESS_BYTE_COUNT	1705262
+SHUFFLE	COPY_MAP_DATA	4252743000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5515972
+SHUFFLE	COMPRESS_BYTE_COUNT	1693588
+SHUFFLE	COPY_MAP_DATA	435739000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5545460
+SHUFFLE	COMPRESS_BYTE_COUNT	1702937
+SHUFFLE	COPY_MAP_DATA	94865000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5518077
+SHUFFLE	COMPRESS_BYTE_COUNT	1715464
+SHUFFLE	COPY_MAP_DATA	98988000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5543864
+SHUFFLE	COMPRESS_BYTE_COUNT	1702206
+SHUFFLE	COPY_MAP_DATA	1550878000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5527627
+SHUFFLE	COMPRESS_BYTE_COUNT	1696066
+SHUFFLE	COPY_MAP_DATA	225441000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5561132
+SHUFFLE	COMPRESS_BYTE_COUNT	1705904
+SHUFFLE	COPY_MAP_DATA	7700130000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5571462
+SHUFFLE	COMPRESS_BYTE_COUNT	1708768
+SHUFFLE	COPY_MAP_DATA	108402000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5545491
+SHUFFLE	COMPRESS_BYTE_COUNT	1702402
+SHUFFLE	COPY_MAP_DATA	2439113000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5546711
+SHUFFLE	COMPRESS_BYTE_COUNT	1703098
+SHUFFLE	COPY_MAP_DATA	3222997000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5610261
+SHUFFLE	COMPRESS_BYTE_COUNT	1722475
+SHUFFLE	COPY_MAP_DATA	1572393000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5572842
+SHUFFLE	COMPRESS_BYTE_COUNT	1710497
+SHUFFLE	COPY_MAP_DATA	163215000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5567120
+SHUFFLE	COMPRESS_BYTE_COUNT	1708468
+SHUFFLE	COPY_MAP_DATA	1384903000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5473509
+SHUFFLE	COMPRESS_BYTE_COUNT	1701793
+SHUFFLE	COPY_MAP_DATA	915178000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5514679
+SHUFFLE	COMPRESS_BYTE_COUNT	1713855
+SHUFFLE	COPY_MAP_DATA	141794000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5524401
+SHUFFLE	COMPRESS_BYTE_COUNT	1716644
+SHUFFLE	COPY_MAP_DATA	1851095000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5525638
+SHUFFLE	COMPRESS_BYTE_COUNT	1717672
+SHUFFLE	COPY_MAP_DATA	139321000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5512635
+SHUFFLE	COMPRESS_BYTE_COUNT	1712606
+SHUFFLE	COPY_MAP_DATA	1244442000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5586940
+SHUFFLE	COMPRESS_BYTE_COUNT	1715517
+SHUFFLE	COPY_MAP_DATA	473627000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5487866
+SHUFFLE	COMPRESS_BYTE_COUNT	1706727
+SHUFFLE	COPY_MAP_DATA	1873515000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5501831
+SHUFFLE	COMPRESS_BYTE_COUNT	1710373
+SHUFFLE	COPY_MAP_DATA	281952000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5502777
+SHUFFLE	COMPRESS_BYTE_COUNT	1710324
+SHUFFLE	COPY_MAP_DATA	90458000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5553232
+SHUFFLE	COMPRESS_BYTE_COUNT	1725589
+SHUFFLE	COPY_MAP_DATA	90270000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5466894
+SHUFFLE	COMPRESS_BYTE_COUNT	1699336
+SHUFFLE	COPY_MAP_DATA	2980585000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5494936
+SHUFFLE	COMPRESS_BYTE_COUNT	1709053
+SHUFFLE	COPY_MAP_DATA	86733000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5559323
+SHUFFLE	COMPRESS_BYTE_COUNT	1727914
+SHUFFLE	COPY_MAP_DATA	281686000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5454242
+SHUFFLE	COMPRESS_BYTE_COUNT	1695288
+SHUFFLE	COPY_MAP_DATA	1896682000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5527179
+SHUFFLE	COMPRESS_BYTE_COUNT	1696745
+SHUFFLE	COPY_MAP_DATA	409377000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5507622
+SHUFFLE	COMPRESS_BYTE_COUNT	1711332
+SHUFFLE	COPY_MAP_DATA	97818000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5551480
+SHUFFLE	COMPRESS_BYTE_COUNT	1703735
+SHUFFLE	COPY_MAP_DATA	116926000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5470501
+SHUFFLE	COMPRESS_BYTE_COUNT	1700203
+SHUFFLE	COPY_MAP_DATA	90279000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5539830
+SHUFFLE	COMPRESS_BYTE_COUNT	1722022
+SHUFFLE	COPY_MAP_DATA	660974000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5514422
+SHUFFLE	COMPRESS_BYTE_COUNT	1714018
+SHUFFLE	COPY_MAP_DATA	2698183000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5494761
+SHUFFLE	COMPRESS_BYTE_COUNT	1708290
+SHUFFLE	COPY_MAP_DATA	3130846000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5504500
+SHUFFLE	COMPRESS_BYTE_COUNT	1709392
+SHUFFLE	COPY_MAP_DATA	595062000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5556825
+SHUFFLE	COMPRESS_BYTE_COUNT	1726901
+SHUFFLE	COPY_MAP_DATA	263747000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5484135
+SHUFFLE	COMPRESS_BYTE_COUNT	1704555
+SHUFFLE	COPY_MAP_DATA	583304000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5509749
+SHUFFLE	COMPRESS_BYTE_COUNT	1713028
+SHUFFLE	COPY_MAP_DATA	879136000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5494429
+SHUFFLE	COMPRESS_BYTE_COUNT	1707581
+SHUFFLE	COPY_MAP_DATA	93512000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5488717
+SHUFFLE	COMPRESS_BYTE_COUNT	1706269
+SHUFFLE	COPY_MAP_DATA	1038233000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5490695
+SHUFFLE	COMPRESS_BYTE_COUNT	1707796
+SHUFFLE	COPY_MAP_DATA	87739000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5450592
+SHUFFLE	COMPRESS_BYTE_COUNT	1695250
+SHUFFLE	COPY_MAP_DATA	104318000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5541704
+SHUFFLE	COMPRESS_BYTE_COUNT	1721964
+SHUFFLE	COPY_MAP_DATA	180781000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5549241
+SHUFFLE	COMPRESS_BYTE_COUNT	1728027
+SHUFFLE	COPY_MAP_DATA	84702000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5528512
+SHUFFLE	COMPRESS_BYTE_COUNT	1717237
+SHUFFLE	COPY_MAP_DATA	147089000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5554206
+SHUFFLE	COMPRESS_BYTE_COUNT	1730329
+SHUFFLE	COPY_MAP_DATA	524123000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5557618
+SHUFFLE	COMPRESS_BYTE_COUNT	1729746
+SHUFFLE	COPY_MAP_DATA	346931000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5551835
+SHUFFLE	COMPRESS_BYTE_COUNT	1729006
+SHUFFLE	COPY_MAP_DATA	95923000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5588405
+SHUFFLE	COMPRESS_BYTE_COUNT	1725319
+SHUFFLE	COPY_MAP_DATA	84631000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5524372
+SHUFFLE	COMPRESS_BYTE_COUNT	1715720
+SHUFFLE	COPY_MAP_DATA	225609000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5598654
+SHUFFLE	COMPRESS_BYTE_COUNT	1727884
+SHUFFLE	COPY_MAP_DATA	98934000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5560175
+SHUFFLE	COMPRESS_BYTE_COUNT	1732694
+SHUFFLE	COPY_MAP_DATA	468512000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5531980
+SHUFFLE	COMPRESS_BYTE_COUNT	1724241
+SHUFFLE	COPY_MAP_DATA	106209000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5580531
+SHUFFLE	COMPRESS_BYTE_COUNT	1722150
+SHUFFLE	COPY_MAP_DATA	126984000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5570541
+SHUFFLE	COMPRESS_BYTE_COUNT	1734286
+SHUFFLE	COPY_MAP_DATA	208717000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5602590
+SHUFFLE	COMPRESS_BYTE_COUNT	1729383
+SHUFFLE	COPY_MAP_DATA	91873000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5497149
+SHUFFLE	COMPRESS_BYTE_COUNT	1707989
+SHUFFLE	COPY_MAP_DATA	89074000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5465338
+SHUFFLE	COMPRESS_BYTE_COUNT	1699410
+SHUFFLE	COPY_MAP_DATA	390533000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5602202
+SHUFFLE	COMPRESS_BYTE_COUNT	1729209
+SHUFFLE	COPY_MAP_DATA	95712000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4738508
+SHUFFLE	COMPRESS_BYTE_COUNT	1455029
+SHUFFLE	COPY_MAP_DATA	1962080000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5551585
+SHUFFLE	COMPRESS_BYTE_COUNT	1727849
+SHUFFLE	COPY_MAP_DATA	106311000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4493244
+SHUFFLE	COMPRESS_BYTE_COUNT	1397154
+SHUFFLE	COPY_MAP_DATA	106636000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5589872
+SHUFFLE	COMPRESS_BYTE_COUNT	1724892
+SHUFFLE	COPY_MAP_DATA	89441000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4749199
+SHUFFLE	COMPRESS_BYTE_COUNT	1457548
+SHUFFLE	COPY_MAP_DATA	75622000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4532919
+SHUFFLE	COMPRESS_BYTE_COUNT	1409097
+SHUFFLE	COPY_MAP_DATA	141192000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4688118
+SHUFFLE	COMPRESS_BYTE_COUNT	1438915
+SHUFFLE	COPY_MAP_DATA	887990000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5564361
+SHUFFLE	COMPRESS_BYTE_COUNT	1733017
+SHUFFLE	COPY_MAP_DATA	97859000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5586465
+SHUFFLE	COMPRESS_BYTE_COUNT	1724497
+SHUFFLE	COPY_MAP_DATA	92525000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5590955
+SHUFFLE	COMPRESS_BYTE_COUNT	1725703
+SHUFFLE	COPY_MAP_DATA	194144000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5526477
+SHUFFLE	COMPRESS_BYTE_COUNT	1738922
+SHUFFLE	COPY_MAP_DATA	339681000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5596517
+SHUFFLE	COMPRESS_BYTE_COUNT	1728849
+SHUFFLE	COPY_MAP_DATA	85096000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5562977
+SHUFFLE	COMPRESS_BYTE_COUNT	1733922
+SHUFFLE	COPY_MAP_DATA	136736000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4429881
+SHUFFLE	COMPRESS_BYTE_COUNT	1377715
+SHUFFLE	COPY_MAP_DATA	89150000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5490890
+SHUFFLE	COMPRESS_BYTE_COUNT	1741619
+SHUFFLE	COPY_MAP_DATA	94441000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1744129
+SHUFFLE	COMPRESS_BYTE_COUNT	539125
+SHUFFLE	COPY_MAP_DATA	34809000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5605575
+SHUFFLE	COMPRESS_BYTE_COUNT	1730192
+SHUFFLE	COPY_MAP_DATA	103069000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4433554
+SHUFFLE	COMPRESS_BYTE_COUNT	1378459
+SHUFFLE	COPY_MAP_DATA	70461000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5581826
+SHUFFLE	COMPRESS_BYTE_COUNT	1723157
+SHUFFLE	COPY_MAP_DATA	121431000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5576316
+SHUFFLE	COMPRESS_BYTE_COUNT	1720609
+SHUFFLE	COPY_MAP_DATA	1483578000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5548202
+SHUFFLE	COMPRESS_BYTE_COUNT	1728502
+SHUFFLE	COPY_MAP_DATA	468490000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5592954
+SHUFFLE	COMPRESS_BYTE_COUNT	1726441
+SHUFFLE	COPY_MAP_DATA	483753000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1748853
+SHUFFLE	COMPRESS_BYTE_COUNT	540975
+SHUFFLE	COPY_MAP_DATA	264845000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4717821
+SHUFFLE	COMPRESS_BYTE_COUNT	1447986
+SHUFFLE	COPY_MAP_DATA	76025000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4488185
+SHUFFLE	COMPRESS_BYTE_COUNT	1395039
+SHUFFLE	COPY_MAP_DATA	616201000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4713816
+SHUFFLE	COMPRESS_BYTE_COUNT	1447685
+SHUFFLE	COPY_MAP_DATA	3165975000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5554005
+SHUFFLE	COMPRESS_BYTE_COUNT	1730720
+SHUFFLE	COPY_MAP_DATA	885763000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4728497
+SHUFFLE	COMPRESS_BYTE_COUNT	1451527
+SHUFFLE	COPY_MAP_DATA	386021000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4450635
+SHUFFLE	COMPRESS_BYTE_COUNT	1384013
+SHUFFLE	COPY_MAP_DATA	809717000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4474535
+SHUFFLE	COMPRESS_BYTE_COUNT	1390671
+SHUFFLE	COPY_MAP_DATA	100044000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1740040
+SHUFFLE	COMPRESS_BYTE_COUNT	538282
+SHUFFLE	COPY_MAP_DATA	4333079000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4754972
+SHUFFLE	COMPRESS_BYTE_COUNT	1459180
+SHUFFLE	COPY_MAP_DATA	375097000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5547471
+SHUFFLE	COMPRESS_BYTE_COUNT	1728885
+SHUFFLE	COPY_MAP_DATA	138185000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1743750
+SHUFFLE	COMPRESS_BYTE_COUNT	539068
+SHUFFLE	COPY_MAP_DATA	127345000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1672299
+SHUFFLE	COMPRESS_BYTE_COUNT	521918
+SHUFFLE	COPY_MAP_DATA	26750000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5551650
+SHUFFLE	COMPRESS_BYTE_COUNT	1729567
+SHUFFLE	COPY_MAP_DATA	334813000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4412272
+SHUFFLE	COMPRESS_BYTE_COUNT	1372655
+SHUFFLE	COPY_MAP_DATA	132296000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1666366
+SHUFFLE	COMPRESS_BYTE_COUNT	519503
+SHUFFLE	COPY_MAP_DATA	628990000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4762454
+SHUFFLE	COMPRESS_BYTE_COUNT	1462372
+SHUFFLE	COPY_MAP_DATA	81076000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4482439
+SHUFFLE	COMPRESS_BYTE_COUNT	1392591
+SHUFFLE	COPY_MAP_DATA	76350000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1737279
+SHUFFLE	COMPRESS_BYTE_COUNT	537481
+SHUFFLE	COPY_MAP_DATA	89692000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1741452
+SHUFFLE	COMPRESS_BYTE_COUNT	538641
+SHUFFLE	COPY_MAP_DATA	29017000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5553710
+SHUFFLE	COMPRESS_BYTE_COUNT	1730834
+SHUFFLE	COPY_MAP_DATA	119495000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4717307
+SHUFFLE	COMPRESS_BYTE_COUNT	1448002
+SHUFFLE	COPY_MAP_DATA	2037619000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4737899
+SHUFFLE	COMPRESS_BYTE_COUNT	1454147
+SHUFFLE	COPY_MAP_DATA	101190000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4700032
+SHUFFLE	COMPRESS_BYTE_COUNT	1443248
+SHUFFLE	COPY_MAP_DATA	173217000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1734136
+SHUFFLE	COMPRESS_BYTE_COUNT	535928
+SHUFFLE	COPY_MAP_DATA	30232000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1738429
+SHUFFLE	COMPRESS_BYTE_COUNT	537866
+SHUFFLE	COPY_MAP_DATA	1025238000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1734867
+SHUFFLE	COMPRESS_BYTE_COUNT	536372
+SHUFFLE	COPY_MAP_DATA	57058000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4695797
+SHUFFLE	COMPRESS_BYTE_COUNT	1441066
+SHUFFLE	COPY_MAP_DATA	412515000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1746623
+SHUFFLE	COMPRESS_BYTE_COUNT	539675
+SHUFFLE	COPY_MAP_DATA	37148000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4126848
+SHUFFLE	COMPRESS_BYTE_COUNT	1300147
+SHUFFLE	COPY_MAP_DATA	67826000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4465549
+SHUFFLE	COMPRESS_BYTE_COUNT	1388594
+SHUFFLE	COPY_MAP_DATA	79510000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1662016
+SHUFFLE	COMPRESS_BYTE_COUNT	518353
+SHUFFLE	COPY_MAP_DATA	28527000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4443694
+SHUFFLE	COMPRESS_BYTE_COUNT	1380698
+SHUFFLE	COPY_MAP_DATA	73501000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1663308
+SHUFFLE	COMPRESS_BYTE_COUNT	519306
+SHUFFLE	COPY_MAP_DATA	28624000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1660443
+SHUFFLE	COMPRESS_BYTE_COUNT	517937
+SHUFFLE	COPY_MAP_DATA	28900000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1656923
+SHUFFLE	COMPRESS_BYTE_COUNT	517216
+SHUFFLE	COPY_MAP_DATA	28159000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1734384
+SHUFFLE	COMPRESS_BYTE_COUNT	536250
+SHUFFLE	COPY_MAP_DATA	60334000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4246853
+SHUFFLE	COMPRESS_BYTE_COUNT	1320509
+SHUFFLE	COPY_MAP_DATA	117417000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1746097
+SHUFFLE	COMPRESS_BYTE_COUNT	540033
+SHUFFLE	COPY_MAP_DATA	33276000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1738396
+SHUFFLE	COMPRESS_BYTE_COUNT	537696
+SHUFFLE	COPY_MAP_DATA	29549000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1693258
+SHUFFLE	COMPRESS_BYTE_COUNT	523441
+SHUFFLE	COPY_MAP_DATA	115297000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1666382
+SHUFFLE	COMPRESS_BYTE_COUNT	520254
+SHUFFLE	COPY_MAP_DATA	28997000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1662202
+SHUFFLE	COMPRESS_BYTE_COUNT	518256
+SHUFFLE	COPY_MAP_DATA	28509000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1672845
+SHUFFLE	COMPRESS_BYTE_COUNT	521913
+SHUFFLE	COPY_MAP_DATA	30775000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1675308
+SHUFFLE	COMPRESS_BYTE_COUNT	522653
+SHUFFLE	COPY_MAP_DATA	558433000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1615209
+SHUFFLE	COMPRESS_BYTE_COUNT	504190
+SHUFFLE	COPY_MAP_DATA	27492000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4505323
+SHUFFLE	COMPRESS_BYTE_COUNT	1400158
+SHUFFLE	COPY_MAP_DATA	71360000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4760583
+SHUFFLE	COMPRESS_BYTE_COUNT	1461113
+SHUFFLE	COPY_MAP_DATA	74930000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1667499
+SHUFFLE	COMPRESS_BYTE_COUNT	520891
+SHUFFLE	COPY_MAP_DATA	49482000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1660808
+SHUFFLE	COMPRESS_BYTE_COUNT	518232
+SHUFFLE	COPY_MAP_DATA	40437000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1669911
+SHUFFLE	COMPRESS_BYTE_COUNT	521600
+SHUFFLE	COPY_MAP_DATA	99886000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1662312
+SHUFFLE	COMPRESS_BYTE_COUNT	518758
+SHUFFLE	COPY_MAP_DATA	208929000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4458784
+SHUFFLE	COMPRESS_BYTE_COUNT	1385054
+SHUFFLE	COPY_MAP_DATA	397619000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1579890
+SHUFFLE	COMPRESS_BYTE_COUNT	498446
+SHUFFLE	COPY_MAP_DATA	26997000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4521504
+SHUFFLE	COMPRESS_BYTE_COUNT	1388421
+SHUFFLE	COPY_MAP_DATA	69403000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4498245
+SHUFFLE	COMPRESS_BYTE_COUNT	1398784
+SHUFFLE	COPY_MAP_DATA	69546000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	505343060000
+MERGE	READ_WRITE	491917046000
+MERGE	READ_WRITE_COUNT	8
+MERGE	COMBINE	0
+MERGE	WRITE	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	9610341000
+SORT	READ_WRITE	9332961000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	214538800
+REDUCE	SETUP	379000
+REDUCE	SETUP_MEM	214538800
+REDUCE	CLEANUP	41000
+REDUCE	CLEANUP_MEM	261152944
+REDUCE	TOTAL_RUN	513588322058
+REDUCE	READ	19027443000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	484714541058
+REDUCE	WRITE	243877701306
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	55908037
+REDUCE	VALUE_BYTE_COUNT	1648526680
+REDUCE	REDUCE_MEM	179027888
+REDUCE	WRITE	464790000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	1215903734058
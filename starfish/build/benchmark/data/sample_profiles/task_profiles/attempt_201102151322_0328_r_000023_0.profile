@@ -0,0 +1,989 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5425803
+SHUFFLE	COMPRESS_BYTE_COUNT	1708276
+SHUFFLE	COPY_MAP_DATA	1602481000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5502109
+SHUFFLE	COMPRESS_BYTE_COUNT	1710471
+SHUFFLE	COPY_MAP_DATA	143519000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5481368
+SHUFFLE	COMPRESS_BYTE_COUNT	1703355
+SHUFFLE	COPY_MAP_DATA	165089000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5520916
+SHUFFLE	COMPRESS_BYTE_COUNT	1715875
+SHUFFLE	COPY_MAP_DATA	193834000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5497397
+SHUFFLE	COMPRESS_BYTE_COUNT	1708601
+SHUFFLE	COPY_MAP_DATA	632482000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5501976
+SHUFFLE	COMPRESS_BYTE_COUNT	1709560
+SHUFFLE	COPY_MAP_DATA	542650000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5540509
+SHUFFLE	COMPRESS_BYTE_COUNT	1722379
+SHUFFLE	COPY_MAP_DATA	195491000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5519339
+SHUFFLE	COMPRESS_BYTE_COUNT	1715733
+SHUFFLE	COPY_MAP_DATA	158401000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5512726
+SHUFFLE	COMPRESS_BYTE_COUNT	1713362
+SHUFFLE	COPY_MAP_DATA	349041000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5521440
+SHUFFLE	COMPRESS_BYTE_COUNT	1738233
+SHUFFLE	COPY_MAP_DATA	151611000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5605325
+SHUFFLE	COMPRESS_BYTE_COUNT	1741407
+SHUFFLE	COPY_MAP_DATA	217020000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5505165
+SHUFFLE	COMPRESS_BYTE_COUNT	1711979
+SHUFFLE	COPY_MAP_DATA	206815000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5450798
+SHUFFLE	COMPRESS_BYTE_COUNT	1694535
+SHUFFLE	COPY_MAP_DATA	298911000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5479583
+SHUFFLE	COMPRESS_BYTE_COUNT	1704319
+SHUFFLE	COPY_MAP_DATA	144856000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5513142
+SHUFFLE	COMPRESS_BYTE_COUNT	1714136
+SHUFFLE	COPY_MAP_DATA	211421000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5555212
+SHUFFLE	COMPRESS_BYTE_COUNT	1726063
+SHUFFLE	COPY_MAP_DATA	225617000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5522697
+SHUFFLE	COMPRESS_BYTE_COUNT	1716264
+SHUFFLE	COPY_MAP_DATA	189573000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5487081
+SHUFFLE	COMPRESS_BYTE_COUNT	1704930
+SHUFFLE	COPY_MAP_DATA	129210000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5550167
+SHUFFLE	COMPRESS_BYTE_COUNT	1723389
+SHUFFLE	COPY_MAP_DATA	206707000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5548912
+SHUFFLE	COMPRESS_BYTE_COUNT	1701889
+SHUFFLE	COPY_MAP_DATA	106663000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5499956
+SHUFFLE	COMPRESS_BYTE_COUNT	1709952
+SHUFFLE	COPY_MAP_DATA	343968000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5500248
+SHUFFLE	COMPRESS_BYTE_COUNT	1732444
+SHUFFLE	COPY_MAP_DATA	156374000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5518962
+SHUFFLE	COMPRESS_BYTE_COUNT	1716369
+SHUFFLE	COPY_MAP_DATA	101847000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5508767
+SHUFFLE	COMPRESS_BYTE_COUNT	1711316
+SHUFFLE	COPY_MAP_DATA	362492000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5499982
+SHUFFLE	COMPRESS_BYTE_COUNT	1708219
+SHUFFLE	COPY_MAP_DATA	95836000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5527706
+SHUFFLE	COMPRESS_BYTE_COUNT	1718629
+SHUFFLE	COPY_MAP_DATA	479751000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5516028
+SHUFFLE	COMPRESS_BYTE_COUNT	1713536
+SHUFFLE	COPY_MAP_DATA	963537000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5499500
+SHUFFLE	COMPRESS_BYTE_COUNT	1709814
+SHUFFLE	COPY_MAP_DATA	783376000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5459148
+SHUFFLE	COMPRESS_BYTE_COUNT	1719108
+SHUFFLE	COPY_MAP_DATA	1753268000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5396877
+SHUFFLE	COMPRESS_BYTE_COUNT	1726615
+SHUFFLE	COPY_MAP_DATA	533541000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5511675
+SHUFFLE	COMPRESS_BYTE_COUNT	1713431
+SHUFFLE	COPY_MAP_DATA	412520000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5498550
+SHUFFLE	COMPRESS_BYTE_COUNT	1687547
+SHUFFLE	COPY_MAP_DATA	105462000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5586928
+SHUFFLE	COMPRESS_BYTE_COUNT	1714953
+SHUFFLE	COPY_MAP_DATA	516911000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5536779
+SHUFFLE	COMPRESS_BYTE_COUNT	1721001
+SHUFFLE	COPY_MAP_DATA	99640000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5573752
+SHUFFLE	COMPRESS_BYTE_COUNT	1709897
+SHUFFLE	COPY_MAP_DATA	142803000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5567803
+SHUFFLE	COMPRESS_BYTE_COUNT	1708508
+SHUFFLE	COPY_MAP_DATA	352578000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5510292
+SHUFFLE	COMPRESS_BYTE_COUNT	1712049
+SHUFFLE	COPY_MAP_DATA	149987000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5507307
+SHUFFLE	COMPRESS_BYTE_COUNT	1711365
+SHUFFLE	COPY_MAP_DATA	678833000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5536071
+SHUFFLE	COMPRESS_BYTE_COUNT	1720059
+SHUFFLE	COPY_MAP_DATA	4263432000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5518507
+SHUFFLE	COMPRESS_BYTE_COUNT	1713857
+SHUFFLE	COPY_MAP_DATA	257869000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5589517
+SHUFFLE	COMPRESS_BYTE_COUNT	1715399
+SHUFFLE	COPY_MAP_DATA	172033000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5580673
+SHUFFLE	COMPRESS_BYTE_COUNT	1713239
+SHUFFLE	COPY_MAP_DATA	85527000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5581572
+SHUFFLE	COMPRESS_BYTE_COUNT	1734298
+SHUFFLE	COPY_MAP_DATA	504618000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5518567
+SHUFFLE	COMPRESS_BYTE_COUNT	1716459
+SHUFFLE	COPY_MAP_DATA	152539000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5459749
+SHUFFLE	COMPRESS_BYTE_COUNT	1696973
+SHUFFLE	COPY_MAP_DATA	1732227000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5546010
+SHUFFLE	COMPRESS_BYTE_COUNT	1723062
+SHUFFLE	COPY_MAP_DATA	221170000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5525949
+SHUFFLE	COMPRESS_BYTE_COUNT	1717122
+SHUFFLE	COPY_MAP_DATA	277273000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5497737
+SHUFFLE	COMPRESS_BYTE_COUNT	1731438
+SHUFFLE	COPY_MAP_DATA	217280000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5525116
+SHUFFLE	COMPRESS_BYTE_COUNT	1717479
+SHUFFLE	COPY_MAP_DATA	1151325000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5553843
+SHUFFLE	COMPRESS_BYTE_COUNT	1704217
+SHUFFLE	COPY_MAP_DATA	350993000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5532352
+SHUFFLE	COMPRESS_BYTE_COUNT	1719821
+SHUFFLE	COPY_MAP_DATA	688634000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5503326
+SHUFFLE	COMPRESS_BYTE_COUNT	1711626
+SHUFFLE	COPY_MAP_DATA	191144000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5545177
+SHUFFLE	COMPRESS_BYTE_COUNT	1702481
+SHUFFLE	COPY_MAP_DATA	2464050000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5566315
+SHUFFLE	COMPRESS_BYTE_COUNT	1726984
+SHUFFLE	COPY_MAP_DATA	6195423000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5522732
+SHUFFLE	COMPRESS_BYTE_COUNT	1694181
+SHUFFLE	COPY_MAP_DATA	594895000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5563878
+SHUFFLE	COMPRESS_BYTE_COUNT	1708016
+SHUFFLE	COPY_MAP_DATA	380450000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5484127
+SHUFFLE	COMPRESS_BYTE_COUNT	1683955
+SHUFFLE	COPY_MAP_DATA	243301000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5498384
+SHUFFLE	COMPRESS_BYTE_COUNT	1709011
+SHUFFLE	COPY_MAP_DATA	126325000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5585179
+SHUFFLE	COMPRESS_BYTE_COUNT	1714416
+SHUFFLE	COPY_MAP_DATA	570617000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5544778
+SHUFFLE	COMPRESS_BYTE_COUNT	1701511
+SHUFFLE	COPY_MAP_DATA	409633000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5521744
+SHUFFLE	COMPRESS_BYTE_COUNT	1694380
+SHUFFLE	COPY_MAP_DATA	141003000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5540870
+SHUFFLE	COMPRESS_BYTE_COUNT	1700525
+SHUFFLE	COPY_MAP_DATA	139721000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5412106
+SHUFFLE	COMPRESS_BYTE_COUNT	1704310
+SHUFFLE	COPY_MAP_DATA	89954000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5519664
+SHUFFLE	COMPRESS_BYTE_COUNT	1694225
+SHUFFLE	COPY_MAP_DATA	144230000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5606514
+SHUFFLE	COMPRESS_BYTE_COUNT	1720732
+SHUFFLE	COPY_MAP_DATA	158526000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5479854
+SHUFFLE	COMPRESS_BYTE_COUNT	1724829
+SHUFFLE	COPY_MAP_DATA	83453000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5498538
+SHUFFLE	COMPRESS_BYTE_COUNT	1688112
+SHUFFLE	COPY_MAP_DATA	422246000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5538182
+SHUFFLE	COMPRESS_BYTE_COUNT	1700023
+SHUFFLE	COPY_MAP_DATA	92102000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5552637
+SHUFFLE	COMPRESS_BYTE_COUNT	1703894
+SHUFFLE	COPY_MAP_DATA	152319000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5527355
+SHUFFLE	COMPRESS_BYTE_COUNT	1697295
+SHUFFLE	COPY_MAP_DATA	284823000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5525203
+SHUFFLE	COMPRESS_BYTE_COUNT	1696544
+SHUFFLE	COPY_MAP_DATA	87702000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5555231
+SHUFFLE	COMPRESS_BYTE_COUNT	1705258
+SHUFFLE	COPY_MAP_DATA	85713000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5605878
+SHUFFLE	COMPRESS_BYTE_COUNT	1720211
+SHUFFLE	COPY_MAP_DATA	708580000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5555698
+SHUFFLE	COMPRESS_BYTE_COUNT	1706193
+SHUFFLE	COPY_MAP_DATA	324393000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5481127
+SHUFFLE	COMPRESS_BYTE_COUNT	1722468
+SHUFFLE	COPY_MAP_DATA	2934828000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5562138
+SHUFFLE	COMPRESS_BYTE_COUNT	1706478
+SHUFFLE	COPY_MAP_DATA	160227000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5564876
+SHUFFLE	COMPRESS_BYTE_COUNT	1708633
+SHUFFLE	COPY_MAP_DATA	1386460000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5563356
+SHUFFLE	COMPRESS_BYTE_COUNT	1706872
+SHUFFLE	COPY_MAP_DATA	130691000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5489046
+SHUFFLE	COMPRESS_BYTE_COUNT	1685613
+SHUFFLE	COPY_MAP_DATA	223462000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5536203
+SHUFFLE	COMPRESS_BYTE_COUNT	1700164
+SHUFFLE	COPY_MAP_DATA	429555000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5538000
+SHUFFLE	COMPRESS_BYTE_COUNT	1699735
+SHUFFLE	COPY_MAP_DATA	274312000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5596061
+SHUFFLE	COMPRESS_BYTE_COUNT	1718204
+SHUFFLE	COPY_MAP_DATA	324618000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5600201
+SHUFFLE	COMPRESS_BYTE_COUNT	1719270
+SHUFFLE	COPY_MAP_DATA	103917000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5498589
+SHUFFLE	COMPRESS_BYTE_COUNT	1688640
+SHUFFLE	COPY_MAP_DATA	5598433000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5486392
+SHUFFLE	COMPRESS_BYTE_COUNT	1684548
+SHUFFLE	COPY_MAP_DATA	1151709000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5536228
+SHUFFLE	COMPRESS_BYTE_COUNT	1698352
+SHUFFLE	COPY_MAP_DATA	1948733000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5583408
+SHUFFLE	COMPRESS_BYTE_COUNT	1714115
+SHUFFLE	COPY_MAP_DATA	93799000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5564646
+SHUFFLE	COMPRESS_BYTE_COUNT	1707776
+SHUFFLE	COPY_MAP_DATA	202441000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5592138
+SHUFFLE	COMPRESS_BYTE_COUNT	1716510
+SHUFFLE	COPY_MAP_DATA	402702000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5576338
+SHUFFLE	COMPRESS_BYTE_COUNT	1711345
+SHUFFLE	COPY_MAP_DATA	1322952000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5567339
+SHUFFLE	COMPRESS_BYTE_COUNT	1708427
+SHUFFLE	COPY_MAP_DATA	3837593000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5514606
+SHUFFLE	COMPRESS_BYTE_COUNT	1692854
+SHUFFLE	COPY_MAP_DATA	482941000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5546559
+SHUFFLE	COMPRESS_BYTE_COUNT	1701754
+SHUFFLE	COPY_MAP_DATA	509117000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5580992
+SHUFFLE	COMPRESS_BYTE_COUNT	1712936
+SHUFFLE	COPY_MAP_DATA	256982000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5553836
+SHUFFLE	COMPRESS_BYTE_COUNT	1705412
+SHUFFLE	COPY_MAP_DATA	144443000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5551083
+SHUFFLE	COMPRESS_BYTE_COUNT	1703381
+SHUFFLE	COPY_MAP_DATA	96231000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5460315
+SHUFFLE	COMPRESS_BYTE_COUNT	1697136
+SHUFFLE	COPY_MAP_DATA	376896000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5483524
+SHUFFLE	COMPRESS_BYTE_COUNT	1703935
+SHUFFLE	COPY_MAP_DATA	107047000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5532352
+SHUFFLE	COMPRESS_BYTE_COUNT	1697791
+SHUFFLE	COPY_MAP_DATA	172226000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5606092
+SHUFFLE	COMPRESS_BYTE_COUNT	1720370
+SHUFFLE	COPY_MAP_DATA	105811000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5592776
+SHUFFLE	COMPRESS_BYTE_COUNT	1714769
+SHUFFLE	COPY_MAP_DATA	269496000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5504237
+SHUFFLE	COMPRESS_BYTE_COUNT	1711675
+SHUFFLE	COPY_MAP_DATA	89006000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5516599
+SHUFFLE	COMPRESS_BYTE_COUNT	1692573
+SHUFFLE	COPY_MAP_DATA	647005000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5590014
+SHUFFLE	COMPRESS_BYTE_COUNT	1714921
+SHUFFLE	COPY_MAP_DATA	991679000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5566349
+SHUFFLE	COMPRESS_BYTE_COUNT	1708475
+SHUFFLE	COPY_MAP_DATA	2126895000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5470824
+SHUFFLE	COMPRESS_BYTE_COUNT	1679582
+SHUFFLE	COPY_MAP_DATA	2437107000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5523043
+SHUFFLE	COMPRESS_BYTE_COUNT	1695147
+SHUFFLE	COPY_MAP_DATA	97345000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5586601
+SHUFFLE	COMPRESS_BYTE_COUNT	1714069
+SHUFFLE	COPY_MAP_DATA	7873502000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5495328
+SHUFFLE	COMPRESS_BYTE_COUNT	1686801
+SHUFFLE	COPY_MAP_DATA	1984878000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5486977
+SHUFFLE	COMPRESS_BYTE_COUNT	1706089
+SHUFFLE	COPY_MAP_DATA	170611000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5535409
+SHUFFLE	COMPRESS_BYTE_COUNT	1699592
+SHUFFLE	COPY_MAP_DATA	141456000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5519859
+SHUFFLE	COMPRESS_BYTE_COUNT	1695481
+SHUFFLE	COPY_MAP_DATA	200277000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5508697
+SHUFFLE	COMPRESS_BYTE_COUNT	1691226
+SHUFFLE	COPY_MAP_DATA	442309000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5519338
+SHUFFLE	COMPRESS_BYTE_COUNT	1694408
+SHUFFLE	COPY_MAP_DATA	3269173000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5544901
+SHUFFLE	COMPRESS_BYTE_COUNT	1702159
+SHUFFLE	COPY_MAP_DATA	84295000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5517147
+SHUFFLE	COMPRESS_BYTE_COUNT	1693097
+SHUFFLE	COPY_MAP_DATA	193237000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5492006
+SHUFFLE	COMPRESS_BYTE_COUNT	1706628
+SHUFFLE	COPY_MAP_DATA	2048536000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5486798
+SHUFFLE	COMPRESS_BYTE_COUNT	1704088
+SHUFFLE	COPY_MAP_DATA	87185000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5420206
+SHUFFLE	COMPRESS_BYTE_COUNT	1684823
+SHUFFLE	COPY_MAP_DATA	579454000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5566316
+SHUFFLE	COMPRESS_BYTE_COUNT	1730060
+SHUFFLE	COPY_MAP_DATA	1113033000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5479937
+SHUFFLE	COMPRESS_BYTE_COUNT	1704420
+SHUFFLE	COPY_MAP_DATA	639367000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5527727
+SHUFFLE	COMPRESS_BYTE_COUNT	1717433
+SHUFFLE	COPY_MAP_DATA	112880000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5515183
+SHUFFLE	COMPRESS_BYTE_COUNT	1694088
+SHUFFLE	COPY_MAP_DATA	155107000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5579736
+SHUFFLE	COMPRESS_BYTE_COUNT	1733966
+SHUFFLE	COPY_MAP_DATA	1374272000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5548076
+SHUFFLE	COMPRESS_BYTE_COUNT	1725169
+SHUFFLE	COPY_MAP_DATA	584764000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5495260
+SHUFFLE	COMPRESS_BYTE_COUNT	1708530
+SHUFFLE	COPY_MAP_DATA	154985000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5495446
+SHUFFLE	COMPRESS_BYTE_COUNT	1708149
+SHUFFLE	COPY_MAP_DATA	1713185000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5502561
+SHUFFLE	COMPRESS_BYTE_COUNT	1710167
+SHUFFLE	COPY_MAP_DATA	497861000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5466397
+SHUFFLE	COMPRESS_BYTE_COUNT	1699648
+SHUFFLE	COPY_MAP_DATA	676414000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5530402
+SHUFFLE	COMPRESS_BYTE_COUNT	1718666
+SHUFFLE	COPY_MAP_DATA	88861000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5522585
+SHUFFLE	COMPRESS_BYTE_COUNT	1694104
+SHUFFLE	COPY_MAP_DATA	192944000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5468174
+SHUFFLE	COMPRESS_BYTE_COUNT	1700504
+SHUFFLE	COPY_MAP_DATA	151686000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5542249
+SHUFFLE	COMPRESS_BYTE_COUNT	1701723
+SHUFFLE	COPY_MAP_DATA	855266000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5491181
+SHUFFLE	COMPRESS_BYTE_COUNT	1706585
+SHUFFLE	COPY_MAP_DATA	151013000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5488772
+SHUFFLE	COMPRESS_BYTE_COUNT	1706066
+SHUFFLE	COPY_MAP_DATA	269808000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5525995
+SHUFFLE	COMPRESS_BYTE_COUNT	1717696
+SHUFFLE	COPY_MAP_DATA	84016000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5470068
+SHUFFLE	COMPRESS_BYTE_COUNT	1700707
+SHUFFLE	COPY_MAP_DATA	287441000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5517511
+SHUFFLE	COMPRESS_BYTE_COUNT	1714138
+SHUFFLE	COPY_MAP_DATA	140462000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5479158
+SHUFFLE	COMPRESS_BYTE_COUNT	1702289
+SHUFFLE	COPY_MAP_DATA	233429000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5537015
+SHUFFLE	COMPRESS_BYTE_COUNT	1720256
+SHUFFLE	COPY_MAP_DATA	337555000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5475335
+SHUFFLE	COMPRESS_BYTE_COUNT	1703403
+SHUFFLE	COPY_MAP_DATA	84140000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5457438
+SHUFFLE	COMPRESS_BYTE_COUNT	1696922
+SHUFFLE	COPY_MAP_DATA	198873000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5494910
+SHUFFLE	COMPRESS_BYTE_COUNT	1708354
+SHUFFLE	COPY_MAP_DATA	167189000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5506915
+SHUFFLE	COMPRESS_BYTE_COUNT	1710504
+SHUFFLE	COPY_MAP_DATA	104137000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5586280
+SHUFFLE	COMPRESS_BYTE_COUNT	1735124
+SHUFFLE	COPY_MAP_DATA	92031000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5482721
+SHUFFLE	COMPRESS_BYTE_COUNT	1704286
+SHUFFLE	COPY_MAP_DATA	86741000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5497103
+SHUFFLE	COMPRESS_BYTE_COUNT	1707117
+SHUFFLE	COPY_MAP_DATA	148752000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5547739
+SHUFFLE	COMPRESS_BYTE_COUNT	1728688
+SHUFFLE	COPY_MAP_DATA	119035000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5547603
+SHUFFLE	COMPRESS_BYTE_COUNT	1729220
+SHUFFLE	COPY_MAP_DATA	644439000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5550795
+SHUFFLE	COMPRESS_BYTE_COUNT	1729381
+SHUFFLE	COPY_MAP_DATA	2057857000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5560309
+SHUFFLE	COMPRESS_BYTE_COUNT	1729355
+SHUFFLE	COPY_MAP_DATA	108901000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5452245
+SHUFFLE	COMPRESS_BYTE_COUNT	1694812
+SHUFFLE	COPY_MAP_DATA	433822000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5582335
+SHUFFLE	COMPRESS_BYTE_COUNT	1723183
+SHUFFLE	COPY_MAP_DATA	94809000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5596254
+SHUFFLE	COMPRESS_BYTE_COUNT	1727123
+SHUFFLE	COPY_MAP_DATA	149220000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5560229
+SHUFFLE	COMPRESS_BYTE_COUNT	1732351
+SHUFFLE	COPY_MAP_DATA	269127000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5545877
+SHUFFLE	COMPRESS_BYTE_COUNT	1727499
+SHUFFLE	COPY_MAP_DATA	179907000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5582309
+SHUFFLE	COMPRESS_BYTE_COUNT	1722902
+SHUFFLE	COPY_MAP_DATA	107461000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5562842
+SHUFFLE	COMPRESS_BYTE_COUNT	1732854
+SHUFFLE	COPY_MAP_DATA	96076000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5608408
+SHUFFLE	COMPRESS_BYTE_COUNT	1730312
+SHUFFLE	COPY_MAP_DATA	157061000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5509605
+SHUFFLE	COMPRESS_BYTE_COUNT	1712251
+SHUFFLE	COPY_MAP_DATA	319227000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5518929
+SHUFFLE	COMPRESS_BYTE_COUNT	1715452
+SHUFFLE	COPY_MAP_DATA	743809000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5602183
+SHUFFLE	COMPRESS_BYTE_COUNT	1728756
+SHUFFLE	COPY_MAP_DATA	1234006000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4752363
+SHUFFLE	COMPRESS_BYTE_COUNT	1459394
+SHUFFLE	COPY_MAP_DATA	245512000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5551452
+SHUFFLE	COMPRESS_BYTE_COUNT	1729176
+SHUFFLE	COPY_MAP_DATA	184376000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4742745
+SHUFFLE	COMPRESS_BYTE_COUNT	1455493
+SHUFFLE	COPY_MAP_DATA	316631000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4522005
+SHUFFLE	COMPRESS_BYTE_COUNT	1406163
+SHUFFLE	COPY_MAP_DATA	183196000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5594665
+SHUFFLE	COMPRESS_BYTE_COUNT	1727184
+SHUFFLE	COPY_MAP_DATA	106654000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4714490
+SHUFFLE	COMPRESS_BYTE_COUNT	1446576
+SHUFFLE	COPY_MAP_DATA	71327000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4444255
+SHUFFLE	COMPRESS_BYTE_COUNT	1382399
+SHUFFLE	COPY_MAP_DATA	129293000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5588924
+SHUFFLE	COMPRESS_BYTE_COUNT	1724476
+SHUFFLE	COPY_MAP_DATA	196372000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5566479
+SHUFFLE	COMPRESS_BYTE_COUNT	1734385
+SHUFFLE	COPY_MAP_DATA	86535000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5524489
+SHUFFLE	COMPRESS_BYTE_COUNT	1738159
+SHUFFLE	COPY_MAP_DATA	109061000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5597438
+SHUFFLE	COMPRESS_BYTE_COUNT	1727469
+SHUFFLE	COPY_MAP_DATA	149203000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5599564
+SHUFFLE	COMPRESS_BYTE_COUNT	1728926
+SHUFFLE	COPY_MAP_DATA	162302000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5559745
+SHUFFLE	COMPRESS_BYTE_COUNT	1733013
+SHUFFLE	COPY_MAP_DATA	129524000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4449227
+SHUFFLE	COMPRESS_BYTE_COUNT	1383121
+SHUFFLE	COPY_MAP_DATA	166401000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5500362
+SHUFFLE	COMPRESS_BYTE_COUNT	1744453
+SHUFFLE	COPY_MAP_DATA	160492000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5599049
+SHUFFLE	COMPRESS_BYTE_COUNT	1728499
+SHUFFLE	COPY_MAP_DATA	421915000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5580493
+SHUFFLE	COMPRESS_BYTE_COUNT	1722990
+SHUFFLE	COPY_MAP_DATA	312691000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4456094
+SHUFFLE	COMPRESS_BYTE_COUNT	1385512
+SHUFFLE	COPY_MAP_DATA	749419000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1738083
+SHUFFLE	COMPRESS_BYTE_COUNT	537003
+SHUFFLE	COPY_MAP_DATA	317341000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5542267
+SHUFFLE	COMPRESS_BYTE_COUNT	1726447
+SHUFFLE	COPY_MAP_DATA	111506000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5577174
+SHUFFLE	COMPRESS_BYTE_COUNT	1721367
+SHUFFLE	COPY_MAP_DATA	128879000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5586529
+SHUFFLE	COMPRESS_BYTE_COUNT	1725972
+SHUFFLE	COPY_MAP_DATA	134272000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1743820
+SHUFFLE	COMPRESS_BYTE_COUNT	539587
+SHUFFLE	COPY_MAP_DATA	30724000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4683257
+SHUFFLE	COMPRESS_BYTE_COUNT	1438376
+SHUFFLE	COPY_MAP_DATA	76902000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4452875
+SHUFFLE	COMPRESS_BYTE_COUNT	1384316
+SHUFFLE	COPY_MAP_DATA	116990000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4415061
+SHUFFLE	COMPRESS_BYTE_COUNT	1372534
+SHUFFLE	COPY_MAP_DATA	94470000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4417467
+SHUFFLE	COMPRESS_BYTE_COUNT	1374136
+SHUFFLE	COPY_MAP_DATA	75712000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5557672
+SHUFFLE	COMPRESS_BYTE_COUNT	1730745
+SHUFFLE	COPY_MAP_DATA	111086000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4729888
+SHUFFLE	COMPRESS_BYTE_COUNT	1451905
+SHUFFLE	COPY_MAP_DATA	1072338000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4687117
+SHUFFLE	COMPRESS_BYTE_COUNT	1438507
+SHUFFLE	COPY_MAP_DATA	148443000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1666340
+SHUFFLE	COMPRESS_BYTE_COUNT	520857
+SHUFFLE	COPY_MAP_DATA	1090996000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5552090
+SHUFFLE	COMPRESS_BYTE_COUNT	1729611
+SHUFFLE	COPY_MAP_DATA	1053034000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1738855
+SHUFFLE	COMPRESS_BYTE_COUNT	537713
+SHUFFLE	COPY_MAP_DATA	833950000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1747669
+SHUFFLE	COMPRESS_BYTE_COUNT	539769
+SHUFFLE	COPY_MAP_DATA	39388000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4774504
+SHUFFLE	COMPRESS_BYTE_COUNT	1466458
+SHUFFLE	COPY_MAP_DATA	76789000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4400973
+SHUFFLE	COMPRESS_BYTE_COUNT	1368655
+SHUFFLE	COPY_MAP_DATA	740232000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5552759
+SHUFFLE	COMPRESS_BYTE_COUNT	1729190
+SHUFFLE	COPY_MAP_DATA	183503000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4449869
+SHUFFLE	COMPRESS_BYTE_COUNT	1383757
+SHUFFLE	COPY_MAP_DATA	237440000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1668356
+SHUFFLE	COMPRESS_BYTE_COUNT	520246
+SHUFFLE	COPY_MAP_DATA	47870000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4770603
+SHUFFLE	COMPRESS_BYTE_COUNT	1463861
+SHUFFLE	COPY_MAP_DATA	97531000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1738439
+SHUFFLE	COMPRESS_BYTE_COUNT	537460
+SHUFFLE	COPY_MAP_DATA	54098000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1742620
+SHUFFLE	COMPRESS_BYTE_COUNT	538809
+SHUFFLE	COPY_MAP_DATA	32739000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5545108
+SHUFFLE	COMPRESS_BYTE_COUNT	1727717
+SHUFFLE	COPY_MAP_DATA	103031000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1734639
+SHUFFLE	COMPRESS_BYTE_COUNT	536691
+SHUFFLE	COPY_MAP_DATA	30243000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1732613
+SHUFFLE	COMPRESS_BYTE_COUNT	535767
+SHUFFLE	COPY_MAP_DATA	30935000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4771769
+SHUFFLE	COMPRESS_BYTE_COUNT	1464935
+SHUFFLE	COPY_MAP_DATA	82535000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4689869
+SHUFFLE	COMPRESS_BYTE_COUNT	1440602
+SHUFFLE	COPY_MAP_DATA	346907000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4461961
+SHUFFLE	COMPRESS_BYTE_COUNT	1387055
+SHUFFLE	COPY_MAP_DATA	78688000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4187902
+SHUFFLE	COMPRESS_BYTE_COUNT	1318758
+SHUFFLE	COPY_MAP_DATA	88731000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1734580
+SHUFFLE	COMPRESS_BYTE_COUNT	536144
+SHUFFLE	COPY_MAP_DATA	33326000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4727990
+SHUFFLE	COMPRESS_BYTE_COUNT	1451147
+SHUFFLE	COPY_MAP_DATA	78509000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1749820
+SHUFFLE	COMPRESS_BYTE_COUNT	540637
+SHUFFLE	COPY_MAP_DATA	31060000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4674407
+SHUFFLE	COMPRESS_BYTE_COUNT	1435948
+SHUFFLE	COPY_MAP_DATA	94049000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1665163
+SHUFFLE	COMPRESS_BYTE_COUNT	519440
+SHUFFLE	COPY_MAP_DATA	29022000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1657368
+SHUFFLE	COMPRESS_BYTE_COUNT	516999
+SHUFFLE	COPY_MAP_DATA	28637000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4414084
+SHUFFLE	COMPRESS_BYTE_COUNT	1372008
+SHUFFLE	COPY_MAP_DATA	70139000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1664888
+SHUFFLE	COMPRESS_BYTE_COUNT	518887
+SHUFFLE	COPY_MAP_DATA	785229000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1669627
+SHUFFLE	COMPRESS_BYTE_COUNT	520306
+SHUFFLE	COPY_MAP_DATA	31176000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1671211
+SHUFFLE	COMPRESS_BYTE_COUNT	521577
+SHUFFLE	COPY_MAP_DATA	28362000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1745487
+SHUFFLE	COMPRESS_BYTE_COUNT	540001
+SHUFFLE	COPY_MAP_DATA	28482000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1669860
+SHUFFLE	COMPRESS_BYTE_COUNT	521245
+SHUFFLE	COPY_MAP_DATA	40282000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1737692
+SHUFFLE	COMPRESS_BYTE_COUNT	537468
+SHUFFLE	COPY_MAP_DATA	137863000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4270947
+SHUFFLE	COMPRESS_BYTE_COUNT	1328422
+SHUFFLE	COPY_MAP_DATA	203218000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1732428
+SHUFFLE	COMPRESS_BYTE_COUNT	535790
+SHUFFLE	COPY_MAP_DATA	686910000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1664880
+SHUFFLE	COMPRESS_BYTE_COUNT	519246
+SHUFFLE	COPY_MAP_DATA	28430000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1662107
+SHUFFLE	COMPRESS_BYTE_COUNT	518575
+SHUFFLE	COPY_MAP_DATA	32281000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4431883
+SHUFFLE	COMPRESS_BYTE_COUNT	1377405
+SHUFFLE	COPY_MAP_DATA	2557738000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1618683
+SHUFFLE	COMPRESS_BYTE_COUNT	504995
+SHUFFLE	COPY_MAP_DATA	27310000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1687458
+SHUFFLE	COMPRESS_BYTE_COUNT	522591
+SHUFFLE	COPY_MAP_DATA	33402000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1673568
+SHUFFLE	COMPRESS_BYTE_COUNT	522078
+SHUFFLE	COPY_MAP_DATA	30004000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1672499
+SHUFFLE	COMPRESS_BYTE_COUNT	521695
+SHUFFLE	COPY_MAP_DATA	28182000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1656151
+SHUFFLE	COMPRESS_BYTE_COUNT	517010
+SHUFFLE	COPY_MAP_DATA	28596000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4710813
+SHUFFLE	COMPRESS_BYTE_COUNT	1447230
+SHUFFLE	COPY_MAP_DATA	464595000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1662996
+SHUFFLE	COMPRESS_BYTE_COUNT	518705
+SHUFFLE	COPY_MAP_DATA	27170000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4409077
+SHUFFLE	COMPRESS_BYTE_COUNT	1370689
+SHUFFLE	COPY_MAP_DATA	418308000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1578694
+SHUFFLE	COMPRESS_BYTE_COUNT	498686
+SHUFFLE	COPY_MAP_DATA	27281000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4591825
+SHUFFLE	COMPRESS_BYTE_COUNT	1409757
+SHUFFLE	COPY_MAP_DATA	74113000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4486712
+SHUFFLE	COMPRESS_BYTE_COUNT	1393962
+SHUFFLE	COPY_MAP_DATA	77852000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	467954738677
+MERGE	READ_WRITE	457890074677
+MERGE	READ_WRITE_COUNT	8
+MERGE	COMBINE	0
+MERGE	WRITE	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	8781284000
+SORT	READ_WRITE	8553397000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	239582776
+REDUCE	SETUP	443000
+REDUCE	SETUP_MEM	239582776
+REDUCE	CLEANUP	45000
+REDUCE	CLEANUP_MEM	232490080
+REDUCE	TOTAL_RUN	397195028545
+REDUCE	READ	25727771000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	358102199545
+REDUCE	WRITE	105646978081
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	55842816
+REDUCE	VALUE_BYTE_COUNT	1646552648
+REDUCE	REDUCE_MEM	232490080
+REDUCE	WRITE	373724000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	1099727146570
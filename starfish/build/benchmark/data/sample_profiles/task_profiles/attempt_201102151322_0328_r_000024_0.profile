@@ -0,0 +1,989 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5535692
+SHUFFLE	COMPRESS_BYTE_COUNT	1720153
+SHUFFLE	COPY_MAP_DATA	594911000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5530864
+SHUFFLE	COMPRESS_BYTE_COUNT	1717971
+SHUFFLE	COPY_MAP_DATA	153143000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5550959
+SHUFFLE	COMPRESS_BYTE_COUNT	1724397
+SHUFFLE	COPY_MAP_DATA	274814000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5480754
+SHUFFLE	COMPRESS_BYTE_COUNT	1725176
+SHUFFLE	COPY_MAP_DATA	120075000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5473334
+SHUFFLE	COMPRESS_BYTE_COUNT	1702063
+SHUFFLE	COPY_MAP_DATA	159701000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5438998
+SHUFFLE	COMPRESS_BYTE_COUNT	1691568
+SHUFFLE	COPY_MAP_DATA	105732000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5529339
+SHUFFLE	COMPRESS_BYTE_COUNT	1717804
+SHUFFLE	COPY_MAP_DATA	129458000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5500679
+SHUFFLE	COMPRESS_BYTE_COUNT	1709444
+SHUFFLE	COPY_MAP_DATA	170493000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5449008
+SHUFFLE	COMPRESS_BYTE_COUNT	1692986
+SHUFFLE	COPY_MAP_DATA	239073000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5531813
+SHUFFLE	COMPRESS_BYTE_COUNT	1718263
+SHUFFLE	COPY_MAP_DATA	167189000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5518613
+SHUFFLE	COMPRESS_BYTE_COUNT	1716134
+SHUFFLE	COPY_MAP_DATA	481546000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5496271
+SHUFFLE	COMPRESS_BYTE_COUNT	1707755
+SHUFFLE	COPY_MAP_DATA	95779000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5495005
+SHUFFLE	COMPRESS_BYTE_COUNT	1708453
+SHUFFLE	COPY_MAP_DATA	125696000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5517568
+SHUFFLE	COMPRESS_BYTE_COUNT	1736283
+SHUFFLE	COPY_MAP_DATA	166800000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5409595
+SHUFFLE	COMPRESS_BYTE_COUNT	1682025
+SHUFFLE	COPY_MAP_DATA	210602000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5514311
+SHUFFLE	COMPRESS_BYTE_COUNT	1714071
+SHUFFLE	COPY_MAP_DATA	87625000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5554908
+SHUFFLE	COMPRESS_BYTE_COUNT	1726274
+SHUFFLE	COPY_MAP_DATA	86698000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5469154
+SHUFFLE	COMPRESS_BYTE_COUNT	1721558
+SHUFFLE	COPY_MAP_DATA	118786000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5479653
+SHUFFLE	COMPRESS_BYTE_COUNT	1703108
+SHUFFLE	COPY_MAP_DATA	175809000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5476123
+SHUFFLE	COMPRESS_BYTE_COUNT	1703091
+SHUFFLE	COPY_MAP_DATA	192027000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5503640
+SHUFFLE	COMPRESS_BYTE_COUNT	1711248
+SHUFFLE	COPY_MAP_DATA	134274000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5489263
+SHUFFLE	COMPRESS_BYTE_COUNT	1686251
+SHUFFLE	COPY_MAP_DATA	100453000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5522765
+SHUFFLE	COMPRESS_BYTE_COUNT	1715811
+SHUFFLE	COPY_MAP_DATA	196506000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5503297
+SHUFFLE	COMPRESS_BYTE_COUNT	1710770
+SHUFFLE	COPY_MAP_DATA	461854000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5516151
+SHUFFLE	COMPRESS_BYTE_COUNT	1714737
+SHUFFLE	COPY_MAP_DATA	113068000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5521281
+SHUFFLE	COMPRESS_BYTE_COUNT	1716325
+SHUFFLE	COPY_MAP_DATA	504733000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5516888
+SHUFFLE	COMPRESS_BYTE_COUNT	1714138
+SHUFFLE	COPY_MAP_DATA	164942000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5495208
+SHUFFLE	COMPRESS_BYTE_COUNT	1728891
+SHUFFLE	COPY_MAP_DATA	8364826000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5505891
+SHUFFLE	COMPRESS_BYTE_COUNT	1711771
+SHUFFLE	COPY_MAP_DATA	348876000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5443874
+SHUFFLE	COMPRESS_BYTE_COUNT	1741149
+SHUFFLE	COPY_MAP_DATA	1722075000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5557500
+SHUFFLE	COMPRESS_BYTE_COUNT	1705059
+SHUFFLE	COPY_MAP_DATA	125925000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5534142
+SHUFFLE	COMPRESS_BYTE_COUNT	1719762
+SHUFFLE	COPY_MAP_DATA	530223000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5456571
+SHUFFLE	COMPRESS_BYTE_COUNT	1697045
+SHUFFLE	COPY_MAP_DATA	81798000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5546375
+SHUFFLE	COMPRESS_BYTE_COUNT	1702016
+SHUFFLE	COPY_MAP_DATA	85847000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5520454
+SHUFFLE	COMPRESS_BYTE_COUNT	1694588
+SHUFFLE	COPY_MAP_DATA	676201000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5493211
+SHUFFLE	COMPRESS_BYTE_COUNT	1707563
+SHUFFLE	COPY_MAP_DATA	103471000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5573644
+SHUFFLE	COMPRESS_BYTE_COUNT	1710893
+SHUFFLE	COPY_MAP_DATA	229268000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5462284
+SHUFFLE	COMPRESS_BYTE_COUNT	1698494
+SHUFFLE	COPY_MAP_DATA	205538000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5545309
+SHUFFLE	COMPRESS_BYTE_COUNT	1703274
+SHUFFLE	COPY_MAP_DATA	173009000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5504367
+SHUFFLE	COMPRESS_BYTE_COUNT	1711195
+SHUFFLE	COPY_MAP_DATA	713670000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5511580
+SHUFFLE	COMPRESS_BYTE_COUNT	1711640
+SHUFFLE	COPY_MAP_DATA	3522441000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5532203
+SHUFFLE	COMPRESS_BYTE_COUNT	1698563
+SHUFFLE	COPY_MAP_DATA	329529000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5550535
+SHUFFLE	COMPRESS_BYTE_COUNT	1723769
+SHUFFLE	COPY_MAP_DATA	212887000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5516086
+SHUFFLE	COMPRESS_BYTE_COUNT	1715270
+SHUFFLE	COPY_MAP_DATA	422622000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5423416
+SHUFFLE	COMPRESS_BYTE_COUNT	1707295
+SHUFFLE	COPY_MAP_DATA	469248000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5412771
+SHUFFLE	COMPRESS_BYTE_COUNT	1682542
+SHUFFLE	COPY_MAP_DATA	1382547000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5560601
+SHUFFLE	COMPRESS_BYTE_COUNT	1728152
+SHUFFLE	COPY_MAP_DATA	105686000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5521464
+SHUFFLE	COMPRESS_BYTE_COUNT	1715670
+SHUFFLE	COPY_MAP_DATA	278282000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5591989
+SHUFFLE	COMPRESS_BYTE_COUNT	1717504
+SHUFFLE	COPY_MAP_DATA	131669000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5521055
+SHUFFLE	COMPRESS_BYTE_COUNT	1716568
+SHUFFLE	COPY_MAP_DATA	2685665000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5555113
+SHUFFLE	COMPRESS_BYTE_COUNT	1726749
+SHUFFLE	COPY_MAP_DATA	3400656000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5536116
+SHUFFLE	COMPRESS_BYTE_COUNT	1720085
+SHUFFLE	COPY_MAP_DATA	108988000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5554192
+SHUFFLE	COMPRESS_BYTE_COUNT	1705465
+SHUFFLE	COPY_MAP_DATA	1991443000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5556001
+SHUFFLE	COMPRESS_BYTE_COUNT	1705734
+SHUFFLE	COPY_MAP_DATA	1786440000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5567143
+SHUFFLE	COMPRESS_BYTE_COUNT	1727633
+SHUFFLE	COPY_MAP_DATA	709745000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5495053
+SHUFFLE	COMPRESS_BYTE_COUNT	1687561
+SHUFFLE	COPY_MAP_DATA	232351000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5476888
+SHUFFLE	COMPRESS_BYTE_COUNT	1702444
+SHUFFLE	COPY_MAP_DATA	1391640000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5539784
+SHUFFLE	COMPRESS_BYTE_COUNT	1701157
+SHUFFLE	COPY_MAP_DATA	1633707000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5598873
+SHUFFLE	COMPRESS_BYTE_COUNT	1718068
+SHUFFLE	COPY_MAP_DATA	119264000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5533825
+SHUFFLE	COMPRESS_BYTE_COUNT	1698329
+SHUFFLE	COPY_MAP_DATA	92313000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5586825
+SHUFFLE	COMPRESS_BYTE_COUNT	1714374
+SHUFFLE	COPY_MAP_DATA	98396000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5511519
+SHUFFLE	COMPRESS_BYTE_COUNT	1692953
+SHUFFLE	COPY_MAP_DATA	295797000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5441257
+SHUFFLE	COMPRESS_BYTE_COUNT	1713564
+SHUFFLE	COPY_MAP_DATA	91083000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5503550
+SHUFFLE	COMPRESS_BYTE_COUNT	1732277
+SHUFFLE	COPY_MAP_DATA	1114696000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5524536
+SHUFFLE	COMPRESS_BYTE_COUNT	1696134
+SHUFFLE	COPY_MAP_DATA	759212000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5481266
+SHUFFLE	COMPRESS_BYTE_COUNT	1683683
+SHUFFLE	COPY_MAP_DATA	114266000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5517329
+SHUFFLE	COMPRESS_BYTE_COUNT	1693932
+SHUFFLE	COPY_MAP_DATA	115954000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5564086
+SHUFFLE	COMPRESS_BYTE_COUNT	1708408
+SHUFFLE	COPY_MAP_DATA	120294000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5555468
+SHUFFLE	COMPRESS_BYTE_COUNT	1704503
+SHUFFLE	COPY_MAP_DATA	215858000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5552559
+SHUFFLE	COMPRESS_BYTE_COUNT	1704725
+SHUFFLE	COPY_MAP_DATA	255498000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5591948
+SHUFFLE	COMPRESS_BYTE_COUNT	1715603
+SHUFFLE	COPY_MAP_DATA	209812000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5545755
+SHUFFLE	COMPRESS_BYTE_COUNT	1703857
+SHUFFLE	COPY_MAP_DATA	1247759000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5553468
+SHUFFLE	COMPRESS_BYTE_COUNT	1705259
+SHUFFLE	COPY_MAP_DATA	112434000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5557451
+SHUFFLE	COMPRESS_BYTE_COUNT	1705854
+SHUFFLE	COPY_MAP_DATA	875632000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5520604
+SHUFFLE	COMPRESS_BYTE_COUNT	1694778
+SHUFFLE	COPY_MAP_DATA	118468000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5562590
+SHUFFLE	COMPRESS_BYTE_COUNT	1748179
+SHUFFLE	COPY_MAP_DATA	2076133000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5532641
+SHUFFLE	COMPRESS_BYTE_COUNT	1697847
+SHUFFLE	COPY_MAP_DATA	207956000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5543053
+SHUFFLE	COMPRESS_BYTE_COUNT	1700432
+SHUFFLE	COPY_MAP_DATA	317913000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5530437
+SHUFFLE	COMPRESS_BYTE_COUNT	1697489
+SHUFFLE	COPY_MAP_DATA	887039000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5505586
+SHUFFLE	COMPRESS_BYTE_COUNT	1690128
+SHUFFLE	COPY_MAP_DATA	444813000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5560180
+SHUFFLE	COMPRESS_BYTE_COUNT	1706010
+SHUFFLE	COPY_MAP_DATA	304416000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5520669
+SHUFFLE	COMPRESS_BYTE_COUNT	1694138
+SHUFFLE	COPY_MAP_DATA	106250000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5526746
+SHUFFLE	COMPRESS_BYTE_COUNT	1695849
+SHUFFLE	COPY_MAP_DATA	87687000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5540184
+SHUFFLE	COMPRESS_BYTE_COUNT	1701819
+SHUFFLE	COPY_MAP_DATA	5053827000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5509635
+SHUFFLE	COMPRESS_BYTE_COUNT	1691694
+SHUFFLE	COPY_MAP_DATA	88373000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5522341
+SHUFFLE	COMPRESS_BYTE_COUNT	1695731
+SHUFFLE	COPY_MAP_DATA	341723000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5568304
+SHUFFLE	COMPRESS_BYTE_COUNT	1709410
+SHUFFLE	COPY_MAP_DATA	270256000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5553168
+SHUFFLE	COMPRESS_BYTE_COUNT	1704112
+SHUFFLE	COPY_MAP_DATA	499658000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5532435
+SHUFFLE	COMPRESS_BYTE_COUNT	1698542
+SHUFFLE	COPY_MAP_DATA	119485000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5604660
+SHUFFLE	COMPRESS_BYTE_COUNT	1720189
+SHUFFLE	COPY_MAP_DATA	1249534000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5550210
+SHUFFLE	COMPRESS_BYTE_COUNT	1703714
+SHUFFLE	COPY_MAP_DATA	101505000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5523291
+SHUFFLE	COMPRESS_BYTE_COUNT	1695072
+SHUFFLE	COPY_MAP_DATA	91938000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5597815
+SHUFFLE	COMPRESS_BYTE_COUNT	1717369
+SHUFFLE	COPY_MAP_DATA	131590000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5562237
+SHUFFLE	COMPRESS_BYTE_COUNT	1707083
+SHUFFLE	COPY_MAP_DATA	1119795000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5583160
+SHUFFLE	COMPRESS_BYTE_COUNT	1713103
+SHUFFLE	COPY_MAP_DATA	190830000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5593244
+SHUFFLE	COMPRESS_BYTE_COUNT	1717841
+SHUFFLE	COPY_MAP_DATA	151280000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5508505
+SHUFFLE	COMPRESS_BYTE_COUNT	1711997
+SHUFFLE	COPY_MAP_DATA	91688000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5524223
+SHUFFLE	COMPRESS_BYTE_COUNT	1717028
+SHUFFLE	COPY_MAP_DATA	88703000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5552739
+SHUFFLE	COMPRESS_BYTE_COUNT	1703890
+SHUFFLE	COPY_MAP_DATA	93650000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5621330
+SHUFFLE	COMPRESS_BYTE_COUNT	1725480
+SHUFFLE	COPY_MAP_DATA	146685000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5547172
+SHUFFLE	COMPRESS_BYTE_COUNT	1702459
+SHUFFLE	COPY_MAP_DATA	93146000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5543408
+SHUFFLE	COMPRESS_BYTE_COUNT	1722865
+SHUFFLE	COPY_MAP_DATA	121143000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5503668
+SHUFFLE	COMPRESS_BYTE_COUNT	1690623
+SHUFFLE	COPY_MAP_DATA	668294000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5524076
+SHUFFLE	COMPRESS_BYTE_COUNT	1695688
+SHUFFLE	COPY_MAP_DATA	1056487000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5575015
+SHUFFLE	COMPRESS_BYTE_COUNT	1710531
+SHUFFLE	COPY_MAP_DATA	235332000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5555830
+SHUFFLE	COMPRESS_BYTE_COUNT	1704352
+SHUFFLE	COPY_MAP_DATA	86810000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5544872
+SHUFFLE	COMPRESS_BYTE_COUNT	1701792
+SHUFFLE	COPY_MAP_DATA	2134654000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5492242
+SHUFFLE	COMPRESS_BYTE_COUNT	1685997
+SHUFFLE	COPY_MAP_DATA	122681000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5544045
+SHUFFLE	COMPRESS_BYTE_COUNT	1701370
+SHUFFLE	COPY_MAP_DATA	1259932000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5475587
+SHUFFLE	COMPRESS_BYTE_COUNT	1701474
+SHUFFLE	COPY_MAP_DATA	217992000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5552214
+SHUFFLE	COMPRESS_BYTE_COUNT	1703787
+SHUFFLE	COPY_MAP_DATA	6532972000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5561581
+SHUFFLE	COMPRESS_BYTE_COUNT	1707478
+SHUFFLE	COPY_MAP_DATA	2495181000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5585017
+SHUFFLE	COMPRESS_BYTE_COUNT	1713980
+SHUFFLE	COPY_MAP_DATA	3118028000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5517812
+SHUFFLE	COMPRESS_BYTE_COUNT	1692757
+SHUFFLE	COPY_MAP_DATA	86092000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5563012
+SHUFFLE	COMPRESS_BYTE_COUNT	1707951
+SHUFFLE	COPY_MAP_DATA	1597173000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5527537
+SHUFFLE	COMPRESS_BYTE_COUNT	1696181
+SHUFFLE	COPY_MAP_DATA	5678488000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5468008
+SHUFFLE	COMPRESS_BYTE_COUNT	1699832
+SHUFFLE	COPY_MAP_DATA	468066000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5515646
+SHUFFLE	COMPRESS_BYTE_COUNT	1715221
+SHUFFLE	COPY_MAP_DATA	2148698000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5513007
+SHUFFLE	COMPRESS_BYTE_COUNT	1713218
+SHUFFLE	COPY_MAP_DATA	324564000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5504692
+SHUFFLE	COMPRESS_BYTE_COUNT	1711246
+SHUFFLE	COPY_MAP_DATA	95991000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5550986
+SHUFFLE	COMPRESS_BYTE_COUNT	1724260
+SHUFFLE	COPY_MAP_DATA	107242000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5538077
+SHUFFLE	COMPRESS_BYTE_COUNT	1720184
+SHUFFLE	COPY_MAP_DATA	83288000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5517026
+SHUFFLE	COMPRESS_BYTE_COUNT	1694627
+SHUFFLE	COPY_MAP_DATA	3097488000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5570650
+SHUFFLE	COMPRESS_BYTE_COUNT	1729542
+SHUFFLE	COPY_MAP_DATA	102553000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5556871
+SHUFFLE	COMPRESS_BYTE_COUNT	1726526
+SHUFFLE	COPY_MAP_DATA	232502000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5487343
+SHUFFLE	COMPRESS_BYTE_COUNT	1706486
+SHUFFLE	COPY_MAP_DATA	99729000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5475605
+SHUFFLE	COMPRESS_BYTE_COUNT	1701179
+SHUFFLE	COPY_MAP_DATA	88013000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5503732
+SHUFFLE	COMPRESS_BYTE_COUNT	1710226
+SHUFFLE	COPY_MAP_DATA	97274000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5511144
+SHUFFLE	COMPRESS_BYTE_COUNT	1712436
+SHUFFLE	COPY_MAP_DATA	326982000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5561147
+SHUFFLE	COMPRESS_BYTE_COUNT	1727721
+SHUFFLE	COPY_MAP_DATA	237802000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5581513
+SHUFFLE	COMPRESS_BYTE_COUNT	1711948
+SHUFFLE	COPY_MAP_DATA	178602000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5516306
+SHUFFLE	COMPRESS_BYTE_COUNT	1714095
+SHUFFLE	COPY_MAP_DATA	161317000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5596701
+SHUFFLE	COMPRESS_BYTE_COUNT	1718390
+SHUFFLE	COPY_MAP_DATA	118449000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5444868
+SHUFFLE	COMPRESS_BYTE_COUNT	1690680
+SHUFFLE	COPY_MAP_DATA	89211000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5540441
+SHUFFLE	COMPRESS_BYTE_COUNT	1723257
+SHUFFLE	COPY_MAP_DATA	517254000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5502203
+SHUFFLE	COMPRESS_BYTE_COUNT	1710137
+SHUFFLE	COPY_MAP_DATA	96444000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5492242
+SHUFFLE	COMPRESS_BYTE_COUNT	1707352
+SHUFFLE	COPY_MAP_DATA	783335000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5498209
+SHUFFLE	COMPRESS_BYTE_COUNT	1708212
+SHUFFLE	COPY_MAP_DATA	109829000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5521062
+SHUFFLE	COMPRESS_BYTE_COUNT	1715702
+SHUFFLE	COPY_MAP_DATA	119256000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5509842
+SHUFFLE	COMPRESS_BYTE_COUNT	1713833
+SHUFFLE	COPY_MAP_DATA	346873000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5512972
+SHUFFLE	COMPRESS_BYTE_COUNT	1712434
+SHUFFLE	COPY_MAP_DATA	83816000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5522629
+SHUFFLE	COMPRESS_BYTE_COUNT	1716814
+SHUFFLE	COPY_MAP_DATA	567211000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5520266
+SHUFFLE	COMPRESS_BYTE_COUNT	1716008
+SHUFFLE	COPY_MAP_DATA	96456000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5515881
+SHUFFLE	COMPRESS_BYTE_COUNT	1713815
+SHUFFLE	COPY_MAP_DATA	3297359000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5467015
+SHUFFLE	COMPRESS_BYTE_COUNT	1698981
+SHUFFLE	COPY_MAP_DATA	83714000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5549991
+SHUFFLE	COMPRESS_BYTE_COUNT	1725583
+SHUFFLE	COPY_MAP_DATA	126382000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5548582
+SHUFFLE	COMPRESS_BYTE_COUNT	1727905
+SHUFFLE	COPY_MAP_DATA	97463000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5508540
+SHUFFLE	COMPRESS_BYTE_COUNT	1712846
+SHUFFLE	COPY_MAP_DATA	93568000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5549303
+SHUFFLE	COMPRESS_BYTE_COUNT	1728235
+SHUFFLE	COPY_MAP_DATA	91170000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5552515
+SHUFFLE	COMPRESS_BYTE_COUNT	1727288
+SHUFFLE	COPY_MAP_DATA	338206000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5507273
+SHUFFLE	COMPRESS_BYTE_COUNT	1711676
+SHUFFLE	COPY_MAP_DATA	170139000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5589800
+SHUFFLE	COMPRESS_BYTE_COUNT	1726912
+SHUFFLE	COPY_MAP_DATA	914735000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5549462
+SHUFFLE	COMPRESS_BYTE_COUNT	1728632
+SHUFFLE	COPY_MAP_DATA	178515000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5552473
+SHUFFLE	COMPRESS_BYTE_COUNT	1731306
+SHUFFLE	COPY_MAP_DATA	186989000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5591676
+SHUFFLE	COMPRESS_BYTE_COUNT	1726369
+SHUFFLE	COPY_MAP_DATA	147790000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5544564
+SHUFFLE	COMPRESS_BYTE_COUNT	1726817
+SHUFFLE	COPY_MAP_DATA	170087000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5587413
+SHUFFLE	COMPRESS_BYTE_COUNT	1724171
+SHUFFLE	COPY_MAP_DATA	354439000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5561023
+SHUFFLE	COMPRESS_BYTE_COUNT	1731592
+SHUFFLE	COPY_MAP_DATA	957874000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5613911
+SHUFFLE	COMPRESS_BYTE_COUNT	1732423
+SHUFFLE	COPY_MAP_DATA	102869000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5494502
+SHUFFLE	COMPRESS_BYTE_COUNT	1707140
+SHUFFLE	COPY_MAP_DATA	713962000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5602451
+SHUFFLE	COMPRESS_BYTE_COUNT	1728972
+SHUFFLE	COPY_MAP_DATA	91635000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5500349
+SHUFFLE	COMPRESS_BYTE_COUNT	1708695
+SHUFFLE	COPY_MAP_DATA	99162000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5549800
+SHUFFLE	COMPRESS_BYTE_COUNT	1728244
+SHUFFLE	COPY_MAP_DATA	505519000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4747896
+SHUFFLE	COMPRESS_BYTE_COUNT	1457292
+SHUFFLE	COPY_MAP_DATA	610147000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4804781
+SHUFFLE	COMPRESS_BYTE_COUNT	1474471
+SHUFFLE	COPY_MAP_DATA	1467585000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4484245
+SHUFFLE	COMPRESS_BYTE_COUNT	1393527
+SHUFFLE	COPY_MAP_DATA	69157000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5591696
+SHUFFLE	COMPRESS_BYTE_COUNT	1726383
+SHUFFLE	COPY_MAP_DATA	191401000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4483527
+SHUFFLE	COMPRESS_BYTE_COUNT	1393783
+SHUFFLE	COPY_MAP_DATA	233909000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4731743
+SHUFFLE	COMPRESS_BYTE_COUNT	1452944
+SHUFFLE	COPY_MAP_DATA	180757000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5581046
+SHUFFLE	COMPRESS_BYTE_COUNT	1723940
+SHUFFLE	COPY_MAP_DATA	349381000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5561310
+SHUFFLE	COMPRESS_BYTE_COUNT	1732499
+SHUFFLE	COPY_MAP_DATA	141160000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5595424
+SHUFFLE	COMPRESS_BYTE_COUNT	1726976
+SHUFFLE	COPY_MAP_DATA	133908000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5533218
+SHUFFLE	COMPRESS_BYTE_COUNT	1740773
+SHUFFLE	COPY_MAP_DATA	115386000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5610038
+SHUFFLE	COMPRESS_BYTE_COUNT	1731962
+SHUFFLE	COPY_MAP_DATA	82646000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5565644
+SHUFFLE	COMPRESS_BYTE_COUNT	1733638
+SHUFFLE	COPY_MAP_DATA	91508000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5502754
+SHUFFLE	COMPRESS_BYTE_COUNT	1746174
+SHUFFLE	COPY_MAP_DATA	92991000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4468442
+SHUFFLE	COMPRESS_BYTE_COUNT	1388078
+SHUFFLE	COPY_MAP_DATA	606275000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1735503
+SHUFFLE	COMPRESS_BYTE_COUNT	535877
+SHUFFLE	COPY_MAP_DATA	521897000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4444178
+SHUFFLE	COMPRESS_BYTE_COUNT	1380989
+SHUFFLE	COPY_MAP_DATA	137943000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5600327
+SHUFFLE	COMPRESS_BYTE_COUNT	1728733
+SHUFFLE	COPY_MAP_DATA	176652000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5591294
+SHUFFLE	COMPRESS_BYTE_COUNT	1725330
+SHUFFLE	COPY_MAP_DATA	91723000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5578053
+SHUFFLE	COMPRESS_BYTE_COUNT	1721668
+SHUFFLE	COPY_MAP_DATA	1849882000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5549954
+SHUFFLE	COMPRESS_BYTE_COUNT	1728347
+SHUFFLE	COPY_MAP_DATA	340632000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1746383
+SHUFFLE	COMPRESS_BYTE_COUNT	539729
+SHUFFLE	COPY_MAP_DATA	257656000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5597658
+SHUFFLE	COMPRESS_BYTE_COUNT	1728645
+SHUFFLE	COPY_MAP_DATA	89077000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4739102
+SHUFFLE	COMPRESS_BYTE_COUNT	1455266
+SHUFFLE	COPY_MAP_DATA	83525000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4449654
+SHUFFLE	COMPRESS_BYTE_COUNT	1382891
+SHUFFLE	COPY_MAP_DATA	249528000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4696805
+SHUFFLE	COMPRESS_BYTE_COUNT	1442583
+SHUFFLE	COPY_MAP_DATA	143059000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4701518
+SHUFFLE	COMPRESS_BYTE_COUNT	1443519
+SHUFFLE	COPY_MAP_DATA	779741000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5562682
+SHUFFLE	COMPRESS_BYTE_COUNT	1731557
+SHUFFLE	COPY_MAP_DATA	138357000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4492650
+SHUFFLE	COMPRESS_BYTE_COUNT	1397134
+SHUFFLE	COPY_MAP_DATA	97984000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1737882
+SHUFFLE	COMPRESS_BYTE_COUNT	537408
+SHUFFLE	COPY_MAP_DATA	362502000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4434605
+SHUFFLE	COMPRESS_BYTE_COUNT	1378641
+SHUFFLE	COPY_MAP_DATA	174794000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5546644
+SHUFFLE	COMPRESS_BYTE_COUNT	1727855
+SHUFFLE	COPY_MAP_DATA	125231000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1667710
+SHUFFLE	COMPRESS_BYTE_COUNT	520843
+SHUFFLE	COPY_MAP_DATA	342490000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1747823
+SHUFFLE	COMPRESS_BYTE_COUNT	540367
+SHUFFLE	COPY_MAP_DATA	222945000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4775174
+SHUFFLE	COMPRESS_BYTE_COUNT	1465770
+SHUFFLE	COPY_MAP_DATA	107198000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5553270
+SHUFFLE	COMPRESS_BYTE_COUNT	1729209
+SHUFFLE	COPY_MAP_DATA	2156190000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4478650
+SHUFFLE	COMPRESS_BYTE_COUNT	1391249
+SHUFFLE	COPY_MAP_DATA	3589145000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4800586
+SHUFFLE	COMPRESS_BYTE_COUNT	1473574
+SHUFFLE	COPY_MAP_DATA	111167000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4410430
+SHUFFLE	COMPRESS_BYTE_COUNT	1370149
+SHUFFLE	COPY_MAP_DATA	72027000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1663028
+SHUFFLE	COMPRESS_BYTE_COUNT	519431
+SHUFFLE	COPY_MAP_DATA	28531000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1736450
+SHUFFLE	COMPRESS_BYTE_COUNT	536575
+SHUFFLE	COPY_MAP_DATA	28068000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1740050
+SHUFFLE	COMPRESS_BYTE_COUNT	537505
+SHUFFLE	COPY_MAP_DATA	246987000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1742583
+SHUFFLE	COMPRESS_BYTE_COUNT	537785
+SHUFFLE	COPY_MAP_DATA	30287000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5546017
+SHUFFLE	COMPRESS_BYTE_COUNT	1727959
+SHUFFLE	COPY_MAP_DATA	92775000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1734818
+SHUFFLE	COMPRESS_BYTE_COUNT	536425
+SHUFFLE	COPY_MAP_DATA	29772000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4708942
+SHUFFLE	COMPRESS_BYTE_COUNT	1445812
+SHUFFLE	COPY_MAP_DATA	611932000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4753417
+SHUFFLE	COMPRESS_BYTE_COUNT	1459422
+SHUFFLE	COPY_MAP_DATA	277611000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1735387
+SHUFFLE	COMPRESS_BYTE_COUNT	536171
+SHUFFLE	COPY_MAP_DATA	175321000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4422964
+SHUFFLE	COMPRESS_BYTE_COUNT	1373782
+SHUFFLE	COPY_MAP_DATA	71388000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4740496
+SHUFFLE	COMPRESS_BYTE_COUNT	1455490
+SHUFFLE	COPY_MAP_DATA	92515000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4141552
+SHUFFLE	COMPRESS_BYTE_COUNT	1306330
+SHUFFLE	COPY_MAP_DATA	109921000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1743914
+SHUFFLE	COMPRESS_BYTE_COUNT	539488
+SHUFFLE	COPY_MAP_DATA	217722000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4667376
+SHUFFLE	COMPRESS_BYTE_COUNT	1433347
+SHUFFLE	COPY_MAP_DATA	126710000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1665742
+SHUFFLE	COMPRESS_BYTE_COUNT	519485
+SHUFFLE	COPY_MAP_DATA	28628000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1664827
+SHUFFLE	COMPRESS_BYTE_COUNT	519849
+SHUFFLE	COPY_MAP_DATA	810459000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4424568
+SHUFFLE	COMPRESS_BYTE_COUNT	1375487
+SHUFFLE	COPY_MAP_DATA	80596000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1656551
+SHUFFLE	COMPRESS_BYTE_COUNT	517822
+SHUFFLE	COPY_MAP_DATA	64414000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1671842
+SHUFFLE	COMPRESS_BYTE_COUNT	521527
+SHUFFLE	COPY_MAP_DATA	31025000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1664840
+SHUFFLE	COMPRESS_BYTE_COUNT	518640
+SHUFFLE	COPY_MAP_DATA	31455000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4299390
+SHUFFLE	COMPRESS_BYTE_COUNT	1336686
+SHUFFLE	COPY_MAP_DATA	77901000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1689690
+SHUFFLE	COMPRESS_BYTE_COUNT	522461
+SHUFFLE	COPY_MAP_DATA	34501000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1663790
+SHUFFLE	COMPRESS_BYTE_COUNT	519181
+SHUFFLE	COPY_MAP_DATA	28555000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1623076
+SHUFFLE	COMPRESS_BYTE_COUNT	506113
+SHUFFLE	COPY_MAP_DATA	43387000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1748628
+SHUFFLE	COMPRESS_BYTE_COUNT	540532
+SHUFFLE	COPY_MAP_DATA	1159446000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1666979
+SHUFFLE	COMPRESS_BYTE_COUNT	520095
+SHUFFLE	COPY_MAP_DATA	80506000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1733031
+SHUFFLE	COMPRESS_BYTE_COUNT	535319
+SHUFFLE	COPY_MAP_DATA	252039000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1741933
+SHUFFLE	COMPRESS_BYTE_COUNT	538000
+SHUFFLE	COPY_MAP_DATA	30608000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1663012
+SHUFFLE	COMPRESS_BYTE_COUNT	519039
+SHUFFLE	COPY_MAP_DATA	947446000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4455961
+SHUFFLE	COMPRESS_BYTE_COUNT	1384303
+SHUFFLE	COPY_MAP_DATA	70915000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4739032
+SHUFFLE	COMPRESS_BYTE_COUNT	1454583
+SHUFFLE	COPY_MAP_DATA	613877000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1671753
+SHUFFLE	COMPRESS_BYTE_COUNT	521668
+SHUFFLE	COPY_MAP_DATA	477742000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1655371
+SHUFFLE	COMPRESS_BYTE_COUNT	516511
+SHUFFLE	COPY_MAP_DATA	101912000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1669606
+SHUFFLE	COMPRESS_BYTE_COUNT	521076
+SHUFFLE	COPY_MAP_DATA	27902000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1666320
+SHUFFLE	COMPRESS_BYTE_COUNT	519784
+SHUFFLE	COPY_MAP_DATA	62150000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4495689
+SHUFFLE	COMPRESS_BYTE_COUNT	1397099
+SHUFFLE	COPY_MAP_DATA	84149000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1582023
+SHUFFLE	COMPRESS_BYTE_COUNT	498860
+SHUFFLE	COPY_MAP_DATA	28276000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4518049
+SHUFFLE	COMPRESS_BYTE_COUNT	1387125
+SHUFFLE	COPY_MAP_DATA	77980000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4432321
+SHUFFLE	COMPRESS_BYTE_COUNT	1376976
+SHUFFLE	COPY_MAP_DATA	544962000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	483900041686
+MERGE	READ_WRITE	469864972686
+MERGE	READ_WRITE_COUNT	8
+MERGE	COMBINE	0
+MERGE	WRITE	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	9087370000
+SORT	READ_WRITE	8668326000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	191153280
+REDUCE	SETUP	872000
+REDUCE	SETUP_MEM	191153280
+REDUCE	CLEANUP	53000
+REDUCE	CLEANUP_MEM	223111680
+REDUCE	TOTAL_RUN	575143585637
+REDUCE	READ	22908605000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	542487467637
+REDUCE	WRITE	305540005515
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	55868426
+REDUCE	VALUE_BYTE_COUNT	1647513569
+REDUCE	REDUCE_MEM	223113728
+REDUCE	WRITE	93573000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	1277903332323
@@ -0,0 +1,989 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5467794
+SHUFFLE	COMPRESS_BYTE_COUNT	1700769
+SHUFFLE	COPY_MAP_DATA	251491000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5476485
+SHUFFLE	COMPRESS_BYTE_COUNT	1703394
+SHUFFLE	COPY_MAP_DATA	295834000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5502895
+SHUFFLE	COMPRESS_BYTE_COUNT	1710696
+SHUFFLE	COPY_MAP_DATA	269160000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5448430
+SHUFFLE	COMPRESS_BYTE_COUNT	1714964
+SHUFFLE	COPY_MAP_DATA	214088000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5536092
+SHUFFLE	COMPRESS_BYTE_COUNT	1719853
+SHUFFLE	COPY_MAP_DATA	519760000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5436333
+SHUFFLE	COMPRESS_BYTE_COUNT	1689744
+SHUFFLE	COPY_MAP_DATA	120559000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5610577
+SHUFFLE	COMPRESS_BYTE_COUNT	1742591
+SHUFFLE	COPY_MAP_DATA	206350000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5507699
+SHUFFLE	COMPRESS_BYTE_COUNT	1712499
+SHUFFLE	COPY_MAP_DATA	185988000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5522365
+SHUFFLE	COMPRESS_BYTE_COUNT	1717024
+SHUFFLE	COPY_MAP_DATA	260704000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5487681
+SHUFFLE	COMPRESS_BYTE_COUNT	1705469
+SHUFFLE	COPY_MAP_DATA	139705000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5552109
+SHUFFLE	COMPRESS_BYTE_COUNT	1726126
+SHUFFLE	COPY_MAP_DATA	116945000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5474653
+SHUFFLE	COMPRESS_BYTE_COUNT	1723547
+SHUFFLE	COPY_MAP_DATA	158134000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5501712
+SHUFFLE	COMPRESS_BYTE_COUNT	1709599
+SHUFFLE	COPY_MAP_DATA	131516000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5505064
+SHUFFLE	COMPRESS_BYTE_COUNT	1711044
+SHUFFLE	COPY_MAP_DATA	212331000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5512637
+SHUFFLE	COMPRESS_BYTE_COUNT	1712603
+SHUFFLE	COPY_MAP_DATA	716236000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5554337
+SHUFFLE	COMPRESS_BYTE_COUNT	1704337
+SHUFFLE	COPY_MAP_DATA	210263000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5503467
+SHUFFLE	COMPRESS_BYTE_COUNT	1710988
+SHUFFLE	COPY_MAP_DATA	84819000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5492806
+SHUFFLE	COMPRESS_BYTE_COUNT	1705937
+SHUFFLE	COPY_MAP_DATA	147676000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5422777
+SHUFFLE	COMPRESS_BYTE_COUNT	1707740
+SHUFFLE	COPY_MAP_DATA	235769000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5551101
+SHUFFLE	COMPRESS_BYTE_COUNT	1724800
+SHUFFLE	COPY_MAP_DATA	174750000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5505271
+SHUFFLE	COMPRESS_BYTE_COUNT	1711286
+SHUFFLE	COPY_MAP_DATA	88157000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5543329
+SHUFFLE	COMPRESS_BYTE_COUNT	1723018
+SHUFFLE	COPY_MAP_DATA	97679000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5426754
+SHUFFLE	COMPRESS_BYTE_COUNT	1688294
+SHUFFLE	COPY_MAP_DATA	135068000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5528567
+SHUFFLE	COMPRESS_BYTE_COUNT	1718626
+SHUFFLE	COPY_MAP_DATA	269321000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5435642
+SHUFFLE	COMPRESS_BYTE_COUNT	1690215
+SHUFFLE	COPY_MAP_DATA	327831000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5504980
+SHUFFLE	COMPRESS_BYTE_COUNT	1711134
+SHUFFLE	COPY_MAP_DATA	795949000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5523087
+SHUFFLE	COMPRESS_BYTE_COUNT	1739179
+SHUFFLE	COPY_MAP_DATA	2382480000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5516386
+SHUFFLE	COMPRESS_BYTE_COUNT	1713616
+SHUFFLE	COPY_MAP_DATA	846998000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5440983
+SHUFFLE	COMPRESS_BYTE_COUNT	1690477
+SHUFFLE	COPY_MAP_DATA	88838000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5425047
+SHUFFLE	COMPRESS_BYTE_COUNT	1733566
+SHUFFLE	COPY_MAP_DATA	198920000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5574928
+SHUFFLE	COMPRESS_BYTE_COUNT	1732125
+SHUFFLE	COPY_MAP_DATA	117176000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5559818
+SHUFFLE	COMPRESS_BYTE_COUNT	1706683
+SHUFFLE	COPY_MAP_DATA	219954000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5558168
+SHUFFLE	COMPRESS_BYTE_COUNT	1726690
+SHUFFLE	COPY_MAP_DATA	213298000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5510989
+SHUFFLE	COMPRESS_BYTE_COUNT	1691162
+SHUFFLE	COPY_MAP_DATA	277055000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5481237
+SHUFFLE	COMPRESS_BYTE_COUNT	1683426
+SHUFFLE	COPY_MAP_DATA	96675000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5559413
+SHUFFLE	COMPRESS_BYTE_COUNT	1706119
+SHUFFLE	COPY_MAP_DATA	107944000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5498790
+SHUFFLE	COMPRESS_BYTE_COUNT	1709164
+SHUFFLE	COPY_MAP_DATA	87446000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5479816
+SHUFFLE	COMPRESS_BYTE_COUNT	1702770
+SHUFFLE	COPY_MAP_DATA	245636000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5552999
+SHUFFLE	COMPRESS_BYTE_COUNT	1704324
+SHUFFLE	COPY_MAP_DATA	3875334000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5504946
+SHUFFLE	COMPRESS_BYTE_COUNT	1711316
+SHUFFLE	COPY_MAP_DATA	112878000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5501970
+SHUFFLE	COMPRESS_BYTE_COUNT	1709415
+SHUFFLE	COPY_MAP_DATA	3578630000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5524421
+SHUFFLE	COMPRESS_BYTE_COUNT	1717483
+SHUFFLE	COPY_MAP_DATA	115448000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5476330
+SHUFFLE	COMPRESS_BYTE_COUNT	1702039
+SHUFFLE	COPY_MAP_DATA	216718000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5529018
+SHUFFLE	COMPRESS_BYTE_COUNT	1718831
+SHUFFLE	COPY_MAP_DATA	88846000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5539466
+SHUFFLE	COMPRESS_BYTE_COUNT	1721078
+SHUFFLE	COPY_MAP_DATA	377544000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5548210
+SHUFFLE	COMPRESS_BYTE_COUNT	1723583
+SHUFFLE	COPY_MAP_DATA	95511000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5521454
+SHUFFLE	COMPRESS_BYTE_COUNT	1716791
+SHUFFLE	COPY_MAP_DATA	6124027000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5513956
+SHUFFLE	COMPRESS_BYTE_COUNT	1712352
+SHUFFLE	COPY_MAP_DATA	2267589000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5520348
+SHUFFLE	COMPRESS_BYTE_COUNT	1736674
+SHUFFLE	COPY_MAP_DATA	99696000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5571715
+SHUFFLE	COMPRESS_BYTE_COUNT	1710365
+SHUFFLE	COPY_MAP_DATA	420723000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5501612
+SHUFFLE	COMPRESS_BYTE_COUNT	1711469
+SHUFFLE	COPY_MAP_DATA	132935000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5591351
+SHUFFLE	COMPRESS_BYTE_COUNT	1715367
+SHUFFLE	COPY_MAP_DATA	112541000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5582944
+SHUFFLE	COMPRESS_BYTE_COUNT	1713504
+SHUFFLE	COPY_MAP_DATA	2032325000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5454696
+SHUFFLE	COMPRESS_BYTE_COUNT	1693020
+SHUFFLE	COPY_MAP_DATA	1614632000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5626547
+SHUFFLE	COMPRESS_BYTE_COUNT	1726181
+SHUFFLE	COPY_MAP_DATA	167947000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5511867
+SHUFFLE	COMPRESS_BYTE_COUNT	1692218
+SHUFFLE	COPY_MAP_DATA	4681847000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5503379
+SHUFFLE	COMPRESS_BYTE_COUNT	1710511
+SHUFFLE	COPY_MAP_DATA	798831000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5521892
+SHUFFLE	COMPRESS_BYTE_COUNT	1695605
+SHUFFLE	COPY_MAP_DATA	215900000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5550865
+SHUFFLE	COMPRESS_BYTE_COUNT	1702956
+SHUFFLE	COPY_MAP_DATA	91745000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5526456
+SHUFFLE	COMPRESS_BYTE_COUNT	1696694
+SHUFFLE	COPY_MAP_DATA	122918000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5528418
+SHUFFLE	COMPRESS_BYTE_COUNT	1696974
+SHUFFLE	COPY_MAP_DATA	105364000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5587159
+SHUFFLE	COMPRESS_BYTE_COUNT	1714482
+SHUFFLE	COPY_MAP_DATA	95588000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5440729
+SHUFFLE	COMPRESS_BYTE_COUNT	1714029
+SHUFFLE	COPY_MAP_DATA	363828000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5605531
+SHUFFLE	COMPRESS_BYTE_COUNT	1720337
+SHUFFLE	COPY_MAP_DATA	108227000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5501380
+SHUFFLE	COMPRESS_BYTE_COUNT	1688771
+SHUFFLE	COPY_MAP_DATA	138197000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5432240
+SHUFFLE	COMPRESS_BYTE_COUNT	1710013
+SHUFFLE	COPY_MAP_DATA	129847000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5602033
+SHUFFLE	COMPRESS_BYTE_COUNT	1719246
+SHUFFLE	COPY_MAP_DATA	1193271000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5557603
+SHUFFLE	COMPRESS_BYTE_COUNT	1706055
+SHUFFLE	COPY_MAP_DATA	108609000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5507541
+SHUFFLE	COMPRESS_BYTE_COUNT	1689766
+SHUFFLE	COPY_MAP_DATA	248607000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5570050
+SHUFFLE	COMPRESS_BYTE_COUNT	1709959
+SHUFFLE	COPY_MAP_DATA	502934000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5585442
+SHUFFLE	COMPRESS_BYTE_COUNT	1715244
+SHUFFLE	COPY_MAP_DATA	119214000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5561974
+SHUFFLE	COMPRESS_BYTE_COUNT	1706899
+SHUFFLE	COPY_MAP_DATA	815356000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5563273
+SHUFFLE	COMPRESS_BYTE_COUNT	1707278
+SHUFFLE	COPY_MAP_DATA	115000000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5540307
+SHUFFLE	COMPRESS_BYTE_COUNT	1700322
+SHUFFLE	COPY_MAP_DATA	367284000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5591046
+SHUFFLE	COMPRESS_BYTE_COUNT	1717000
+SHUFFLE	COPY_MAP_DATA	126750000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5592625
+SHUFFLE	COMPRESS_BYTE_COUNT	1716417
+SHUFFLE	COPY_MAP_DATA	149572000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5607494
+SHUFFLE	COMPRESS_BYTE_COUNT	1722724
+SHUFFLE	COPY_MAP_DATA	97589000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5529718
+SHUFFLE	COMPRESS_BYTE_COUNT	1737092
+SHUFFLE	COPY_MAP_DATA	4719631000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5522724
+SHUFFLE	COMPRESS_BYTE_COUNT	1694440
+SHUFFLE	COPY_MAP_DATA	3056634000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5526741
+SHUFFLE	COMPRESS_BYTE_COUNT	1696568
+SHUFFLE	COPY_MAP_DATA	92717000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5567726
+SHUFFLE	COMPRESS_BYTE_COUNT	1709253
+SHUFFLE	COPY_MAP_DATA	92063000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5518363
+SHUFFLE	COMPRESS_BYTE_COUNT	1693776
+SHUFFLE	COPY_MAP_DATA	110900000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5534003
+SHUFFLE	COMPRESS_BYTE_COUNT	1698381
+SHUFFLE	COPY_MAP_DATA	3193083000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5537268
+SHUFFLE	COMPRESS_BYTE_COUNT	1700032
+SHUFFLE	COPY_MAP_DATA	202989000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5519691
+SHUFFLE	COMPRESS_BYTE_COUNT	1695889
+SHUFFLE	COPY_MAP_DATA	8936716000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5563621
+SHUFFLE	COMPRESS_BYTE_COUNT	1706302
+SHUFFLE	COPY_MAP_DATA	152969000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5514208
+SHUFFLE	COMPRESS_BYTE_COUNT	1692949
+SHUFFLE	COPY_MAP_DATA	80928000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5520906
+SHUFFLE	COMPRESS_BYTE_COUNT	1694178
+SHUFFLE	COPY_MAP_DATA	477670000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5542441
+SHUFFLE	COMPRESS_BYTE_COUNT	1702326
+SHUFFLE	COPY_MAP_DATA	268324000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5555534
+SHUFFLE	COMPRESS_BYTE_COUNT	1704971
+SHUFFLE	COPY_MAP_DATA	4052968000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5569772
+SHUFFLE	COMPRESS_BYTE_COUNT	1709736
+SHUFFLE	COPY_MAP_DATA	5751011000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5544600
+SHUFFLE	COMPRESS_BYTE_COUNT	1701604
+SHUFFLE	COPY_MAP_DATA	88179000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5597676
+SHUFFLE	COMPRESS_BYTE_COUNT	1718456
+SHUFFLE	COPY_MAP_DATA	105979000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5590823
+SHUFFLE	COMPRESS_BYTE_COUNT	1716199
+SHUFFLE	COPY_MAP_DATA	90479000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5550158
+SHUFFLE	COMPRESS_BYTE_COUNT	1703967
+SHUFFLE	COPY_MAP_DATA	89626000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5567349
+SHUFFLE	COMPRESS_BYTE_COUNT	1708582
+SHUFFLE	COPY_MAP_DATA	111485000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5528410
+SHUFFLE	COMPRESS_BYTE_COUNT	1695970
+SHUFFLE	COPY_MAP_DATA	257981000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5506094
+SHUFFLE	COMPRESS_BYTE_COUNT	1712123
+SHUFFLE	COPY_MAP_DATA	132851000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5555908
+SHUFFLE	COMPRESS_BYTE_COUNT	1727182
+SHUFFLE	COPY_MAP_DATA	96890000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5519349
+SHUFFLE	COMPRESS_BYTE_COUNT	1715957
+SHUFFLE	COPY_MAP_DATA	87215000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5558334
+SHUFFLE	COMPRESS_BYTE_COUNT	1706379
+SHUFFLE	COPY_MAP_DATA	1372261000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5556073
+SHUFFLE	COMPRESS_BYTE_COUNT	1706164
+SHUFFLE	COPY_MAP_DATA	314891000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5579918
+SHUFFLE	COMPRESS_BYTE_COUNT	1712813
+SHUFFLE	COPY_MAP_DATA	3630734000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5524299
+SHUFFLE	COMPRESS_BYTE_COUNT	1696323
+SHUFFLE	COPY_MAP_DATA	9047404000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5534537
+SHUFFLE	COMPRESS_BYTE_COUNT	1697988
+SHUFFLE	COPY_MAP_DATA	549638000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5562349
+SHUFFLE	COMPRESS_BYTE_COUNT	1705977
+SHUFFLE	COPY_MAP_DATA	90851000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5458903
+SHUFFLE	COMPRESS_BYTE_COUNT	1696979
+SHUFFLE	COPY_MAP_DATA	95736000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5547784
+SHUFFLE	COMPRESS_BYTE_COUNT	1702993
+SHUFFLE	COPY_MAP_DATA	432176000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5506138
+SHUFFLE	COMPRESS_BYTE_COUNT	1690618
+SHUFFLE	COPY_MAP_DATA	163285000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5517348
+SHUFFLE	COMPRESS_BYTE_COUNT	1694121
+SHUFFLE	COPY_MAP_DATA	111152000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5545069
+SHUFFLE	COMPRESS_BYTE_COUNT	1703183
+SHUFFLE	COPY_MAP_DATA	3091366000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5508169
+SHUFFLE	COMPRESS_BYTE_COUNT	1691295
+SHUFFLE	COPY_MAP_DATA	90601000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5563171
+SHUFFLE	COMPRESS_BYTE_COUNT	1707543
+SHUFFLE	COPY_MAP_DATA	241899000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5596808
+SHUFFLE	COMPRESS_BYTE_COUNT	1717316
+SHUFFLE	COPY_MAP_DATA	113373000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5586941
+SHUFFLE	COMPRESS_BYTE_COUNT	1714112
+SHUFFLE	COPY_MAP_DATA	1179043000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5518014
+SHUFFLE	COMPRESS_BYTE_COUNT	1693562
+SHUFFLE	COPY_MAP_DATA	80634000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5449647
+SHUFFLE	COMPRESS_BYTE_COUNT	1695640
+SHUFFLE	COPY_MAP_DATA	857610000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5528177
+SHUFFLE	COMPRESS_BYTE_COUNT	1717685
+SHUFFLE	COPY_MAP_DATA	5954006894
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5508142
+SHUFFLE	COMPRESS_BYTE_COUNT	1712179
+SHUFFLE	COPY_MAP_DATA	111026000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5577103
+SHUFFLE	COMPRESS_BYTE_COUNT	1733910
+SHUFFLE	COPY_MAP_DATA	197176000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5563387
+SHUFFLE	COMPRESS_BYTE_COUNT	1708168
+SHUFFLE	COPY_MAP_DATA	251787000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5554806
+SHUFFLE	COMPRESS_BYTE_COUNT	1725831
+SHUFFLE	COPY_MAP_DATA	115945000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5530310
+SHUFFLE	COMPRESS_BYTE_COUNT	1717961
+SHUFFLE	COPY_MAP_DATA	1652637000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5519759
+SHUFFLE	COMPRESS_BYTE_COUNT	1716469
+SHUFFLE	COPY_MAP_DATA	591521000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5529010
+SHUFFLE	COMPRESS_BYTE_COUNT	1718836
+SHUFFLE	COPY_MAP_DATA	98747000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5526448
+SHUFFLE	COMPRESS_BYTE_COUNT	1718557
+SHUFFLE	COPY_MAP_DATA	96034000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5523999
+SHUFFLE	COMPRESS_BYTE_COUNT	1716584
+SHUFFLE	COPY_MAP_DATA	177243000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5537335
+SHUFFLE	COMPRESS_BYTE_COUNT	1720166
+SHUFFLE	COPY_MAP_DATA	119934000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5503850
+SHUFFLE	COMPRESS_BYTE_COUNT	1710633
+SHUFFLE	COPY_MAP_DATA	151605000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5529604
+SHUFFLE	COMPRESS_BYTE_COUNT	1717917
+SHUFFLE	COPY_MAP_DATA	1654297000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5540748
+SHUFFLE	COMPRESS_BYTE_COUNT	1700393
+SHUFFLE	COPY_MAP_DATA	266511000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5563693
+SHUFFLE	COMPRESS_BYTE_COUNT	1707829
+SHUFFLE	COPY_MAP_DATA	223785000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5489928
+SHUFFLE	COMPRESS_BYTE_COUNT	1706654
+SHUFFLE	COPY_MAP_DATA	241124000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5499658
+SHUFFLE	COMPRESS_BYTE_COUNT	1708940
+SHUFFLE	COPY_MAP_DATA	1068514000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5532203
+SHUFFLE	COMPRESS_BYTE_COUNT	1720500
+SHUFFLE	COPY_MAP_DATA	123885000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5554113
+SHUFFLE	COMPRESS_BYTE_COUNT	1725212
+SHUFFLE	COPY_MAP_DATA	120207000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5454530
+SHUFFLE	COMPRESS_BYTE_COUNT	1696221
+SHUFFLE	COPY_MAP_DATA	530187000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5546063
+SHUFFLE	COMPRESS_BYTE_COUNT	1723107
+SHUFFLE	COPY_MAP_DATA	85122000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5507464
+SHUFFLE	COMPRESS_BYTE_COUNT	1712737
+SHUFFLE	COPY_MAP_DATA	114943000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5503884
+SHUFFLE	COMPRESS_BYTE_COUNT	1710872
+SHUFFLE	COPY_MAP_DATA	1215948000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5481134
+SHUFFLE	COMPRESS_BYTE_COUNT	1703872
+SHUFFLE	COPY_MAP_DATA	91059000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5527226
+SHUFFLE	COMPRESS_BYTE_COUNT	1718435
+SHUFFLE	COPY_MAP_DATA	1410541000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5508770
+SHUFFLE	COMPRESS_BYTE_COUNT	1713230
+SHUFFLE	COPY_MAP_DATA	709333000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5488254
+SHUFFLE	COMPRESS_BYTE_COUNT	1704420
+SHUFFLE	COPY_MAP_DATA	2078777000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5562159
+SHUFFLE	COMPRESS_BYTE_COUNT	1728043
+SHUFFLE	COPY_MAP_DATA	624195000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5504837
+SHUFFLE	COMPRESS_BYTE_COUNT	1711599
+SHUFFLE	COPY_MAP_DATA	121917000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5540186
+SHUFFLE	COMPRESS_BYTE_COUNT	1727157
+SHUFFLE	COPY_MAP_DATA	84509000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5507847
+SHUFFLE	COMPRESS_BYTE_COUNT	1710978
+SHUFFLE	COPY_MAP_DATA	103600000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5558761
+SHUFFLE	COMPRESS_BYTE_COUNT	1730130
+SHUFFLE	COPY_MAP_DATA	506099000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5556625
+SHUFFLE	COMPRESS_BYTE_COUNT	1730263
+SHUFFLE	COPY_MAP_DATA	850599000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5551205
+SHUFFLE	COMPRESS_BYTE_COUNT	1727460
+SHUFFLE	COPY_MAP_DATA	87661000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5554182
+SHUFFLE	COMPRESS_BYTE_COUNT	1730211
+SHUFFLE	COPY_MAP_DATA	185864000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5530544
+SHUFFLE	COMPRESS_BYTE_COUNT	1718687
+SHUFFLE	COPY_MAP_DATA	577490000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5589762
+SHUFFLE	COMPRESS_BYTE_COUNT	1726183
+SHUFFLE	COPY_MAP_DATA	82769000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5592662
+SHUFFLE	COMPRESS_BYTE_COUNT	1726652
+SHUFFLE	COPY_MAP_DATA	93351000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5551326
+SHUFFLE	COMPRESS_BYTE_COUNT	1729553
+SHUFFLE	COPY_MAP_DATA	1108968000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5589777
+SHUFFLE	COMPRESS_BYTE_COUNT	1725276
+SHUFFLE	COPY_MAP_DATA	996162000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5563344
+SHUFFLE	COMPRESS_BYTE_COUNT	1732230
+SHUFFLE	COPY_MAP_DATA	102905000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5609894
+SHUFFLE	COMPRESS_BYTE_COUNT	1731744
+SHUFFLE	COPY_MAP_DATA	87969000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5514723
+SHUFFLE	COMPRESS_BYTE_COUNT	1714198
+SHUFFLE	COPY_MAP_DATA	86107000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5479589
+SHUFFLE	COMPRESS_BYTE_COUNT	1703733
+SHUFFLE	COPY_MAP_DATA	998946000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5603526
+SHUFFLE	COMPRESS_BYTE_COUNT	1729223
+SHUFFLE	COPY_MAP_DATA	812500000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4761141
+SHUFFLE	COMPRESS_BYTE_COUNT	1460434
+SHUFFLE	COPY_MAP_DATA	537044000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4491570
+SHUFFLE	COMPRESS_BYTE_COUNT	1395306
+SHUFFLE	COPY_MAP_DATA	400116000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4696133
+SHUFFLE	COMPRESS_BYTE_COUNT	1442230
+SHUFFLE	COPY_MAP_DATA	262569000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5551245
+SHUFFLE	COMPRESS_BYTE_COUNT	1729378
+SHUFFLE	COPY_MAP_DATA	373931000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4458063
+SHUFFLE	COMPRESS_BYTE_COUNT	1386130
+SHUFFLE	COPY_MAP_DATA	66437000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4750105
+SHUFFLE	COMPRESS_BYTE_COUNT	1458412
+SHUFFLE	COPY_MAP_DATA	1383288000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5591682
+SHUFFLE	COMPRESS_BYTE_COUNT	1725344
+SHUFFLE	COPY_MAP_DATA	145971000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5586060
+SHUFFLE	COMPRESS_BYTE_COUNT	1724894
+SHUFFLE	COPY_MAP_DATA	386469000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5563065
+SHUFFLE	COMPRESS_BYTE_COUNT	1732702
+SHUFFLE	COPY_MAP_DATA	221807000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5598882
+SHUFFLE	COMPRESS_BYTE_COUNT	1728128
+SHUFFLE	COPY_MAP_DATA	82389000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5527546
+SHUFFLE	COMPRESS_BYTE_COUNT	1739028
+SHUFFLE	COPY_MAP_DATA	256772000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5602134
+SHUFFLE	COMPRESS_BYTE_COUNT	1729775
+SHUFFLE	COPY_MAP_DATA	107311000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5563381
+SHUFFLE	COMPRESS_BYTE_COUNT	1732803
+SHUFFLE	COPY_MAP_DATA	144214000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4477536
+SHUFFLE	COMPRESS_BYTE_COUNT	1392994
+SHUFFLE	COPY_MAP_DATA	1255982000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5587516
+SHUFFLE	COMPRESS_BYTE_COUNT	1724633
+SHUFFLE	COPY_MAP_DATA	99764000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4436535
+SHUFFLE	COMPRESS_BYTE_COUNT	1380288
+SHUFFLE	COPY_MAP_DATA	71375000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1738646
+SHUFFLE	COMPRESS_BYTE_COUNT	537198
+SHUFFLE	COPY_MAP_DATA	29531000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5509488
+SHUFFLE	COMPRESS_BYTE_COUNT	1747545
+SHUFFLE	COPY_MAP_DATA	109694000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5599656
+SHUFFLE	COMPRESS_BYTE_COUNT	1728797
+SHUFFLE	COPY_MAP_DATA	87578000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5536651
+SHUFFLE	COMPRESS_BYTE_COUNT	1724842
+SHUFFLE	COPY_MAP_DATA	128515000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5586659
+SHUFFLE	COMPRESS_BYTE_COUNT	1723644
+SHUFFLE	COPY_MAP_DATA	118911000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1745510
+SHUFFLE	COMPRESS_BYTE_COUNT	539580
+SHUFFLE	COPY_MAP_DATA	30017000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5600346
+SHUFFLE	COMPRESS_BYTE_COUNT	1729534
+SHUFFLE	COPY_MAP_DATA	624927000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4731529
+SHUFFLE	COMPRESS_BYTE_COUNT	1452727
+SHUFFLE	COPY_MAP_DATA	93974000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4454062
+SHUFFLE	COMPRESS_BYTE_COUNT	1383938
+SHUFFLE	COPY_MAP_DATA	67730000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5566100
+SHUFFLE	COMPRESS_BYTE_COUNT	1732903
+SHUFFLE	COPY_MAP_DATA	82715000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4798748
+SHUFFLE	COMPRESS_BYTE_COUNT	1471971
+SHUFFLE	COPY_MAP_DATA	615199000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4436182
+SHUFFLE	COMPRESS_BYTE_COUNT	1379598
+SHUFFLE	COPY_MAP_DATA	178268000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4715586
+SHUFFLE	COMPRESS_BYTE_COUNT	1447685
+SHUFFLE	COPY_MAP_DATA	80965000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4435575
+SHUFFLE	COMPRESS_BYTE_COUNT	1378549
+SHUFFLE	COPY_MAP_DATA	66068000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1741482
+SHUFFLE	COMPRESS_BYTE_COUNT	537649
+SHUFFLE	COPY_MAP_DATA	3255395000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5551884
+SHUFFLE	COMPRESS_BYTE_COUNT	1729127
+SHUFFLE	COPY_MAP_DATA	494117000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1749305
+SHUFFLE	COMPRESS_BYTE_COUNT	540500
+SHUFFLE	COPY_MAP_DATA	58542000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1671924
+SHUFFLE	COMPRESS_BYTE_COUNT	520613
+SHUFFLE	COPY_MAP_DATA	5739523000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4734309
+SHUFFLE	COMPRESS_BYTE_COUNT	1453381
+SHUFFLE	COPY_MAP_DATA	3792179000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5555694
+SHUFFLE	COMPRESS_BYTE_COUNT	1730330
+SHUFFLE	COPY_MAP_DATA	201380000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4469636
+SHUFFLE	COMPRESS_BYTE_COUNT	1389082
+SHUFFLE	COPY_MAP_DATA	166442000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4449914
+SHUFFLE	COMPRESS_BYTE_COUNT	1382480
+SHUFFLE	COPY_MAP_DATA	92204000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4804199
+SHUFFLE	COMPRESS_BYTE_COUNT	1475011
+SHUFFLE	COPY_MAP_DATA	84903000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1739752
+SHUFFLE	COMPRESS_BYTE_COUNT	537189
+SHUFFLE	COPY_MAP_DATA	31543000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1666787
+SHUFFLE	COMPRESS_BYTE_COUNT	520016
+SHUFFLE	COPY_MAP_DATA	26905000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1737559
+SHUFFLE	COMPRESS_BYTE_COUNT	537029
+SHUFFLE	COPY_MAP_DATA	26222000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1740584
+SHUFFLE	COMPRESS_BYTE_COUNT	537569
+SHUFFLE	COPY_MAP_DATA	147348000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1733913
+SHUFFLE	COMPRESS_BYTE_COUNT	535929
+SHUFFLE	COPY_MAP_DATA	218797000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5552896
+SHUFFLE	COMPRESS_BYTE_COUNT	1729788
+SHUFFLE	COPY_MAP_DATA	82856000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4758389
+SHUFFLE	COMPRESS_BYTE_COUNT	1460707
+SHUFFLE	COPY_MAP_DATA	979762000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4736675
+SHUFFLE	COMPRESS_BYTE_COUNT	1454752
+SHUFFLE	COPY_MAP_DATA	99014000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4426615
+SHUFFLE	COMPRESS_BYTE_COUNT	1376273
+SHUFFLE	COPY_MAP_DATA	70828000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1732167
+SHUFFLE	COMPRESS_BYTE_COUNT	535648
+SHUFFLE	COPY_MAP_DATA	30097000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4169402
+SHUFFLE	COMPRESS_BYTE_COUNT	1312809
+SHUFFLE	COPY_MAP_DATA	66615000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4755452
+SHUFFLE	COMPRESS_BYTE_COUNT	1459524
+SHUFFLE	COPY_MAP_DATA	78930000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1742733
+SHUFFLE	COMPRESS_BYTE_COUNT	538495
+SHUFFLE	COPY_MAP_DATA	28766000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4709875
+SHUFFLE	COMPRESS_BYTE_COUNT	1445883
+SHUFFLE	COPY_MAP_DATA	94995000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1663501
+SHUFFLE	COMPRESS_BYTE_COUNT	518561
+SHUFFLE	COPY_MAP_DATA	862476000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1665572
+SHUFFLE	COMPRESS_BYTE_COUNT	519787
+SHUFFLE	COPY_MAP_DATA	28850000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4460156
+SHUFFLE	COMPRESS_BYTE_COUNT	1386041
+SHUFFLE	COPY_MAP_DATA	81679000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1661842
+SHUFFLE	COMPRESS_BYTE_COUNT	518858
+SHUFFLE	COPY_MAP_DATA	28253000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1744040
+SHUFFLE	COMPRESS_BYTE_COUNT	539353
+SHUFFLE	COPY_MAP_DATA	28399000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1733090
+SHUFFLE	COMPRESS_BYTE_COUNT	535343
+SHUFFLE	COPY_MAP_DATA	29231000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1666808
+SHUFFLE	COMPRESS_BYTE_COUNT	520371
+SHUFFLE	COPY_MAP_DATA	53681000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1662790
+SHUFFLE	COMPRESS_BYTE_COUNT	518508
+SHUFFLE	COPY_MAP_DATA	32133000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1664852
+SHUFFLE	COMPRESS_BYTE_COUNT	519543
+SHUFFLE	COPY_MAP_DATA	27970000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4286450
+SHUFFLE	COMPRESS_BYTE_COUNT	1332472
+SHUFFLE	COPY_MAP_DATA	79869000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1667736
+SHUFFLE	COMPRESS_BYTE_COUNT	520466
+SHUFFLE	COPY_MAP_DATA	190904000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1687875
+SHUFFLE	COMPRESS_BYTE_COUNT	521992
+SHUFFLE	COPY_MAP_DATA	34739000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1622713
+SHUFFLE	COMPRESS_BYTE_COUNT	506295
+SHUFFLE	COPY_MAP_DATA	44264000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1662599
+SHUFFLE	COMPRESS_BYTE_COUNT	519088
+SHUFFLE	COPY_MAP_DATA	64164000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1735115
+SHUFFLE	COMPRESS_BYTE_COUNT	536694
+SHUFFLE	COPY_MAP_DATA	31694000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4482994
+SHUFFLE	COMPRESS_BYTE_COUNT	1393662
+SHUFFLE	COPY_MAP_DATA	3463722000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1670979
+SHUFFLE	COMPRESS_BYTE_COUNT	520756
+SHUFFLE	COPY_MAP_DATA	27748000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4745747
+SHUFFLE	COMPRESS_BYTE_COUNT	1456126
+SHUFFLE	COPY_MAP_DATA	76219000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4464520
+SHUFFLE	COMPRESS_BYTE_COUNT	1387341
+SHUFFLE	COPY_MAP_DATA	484673000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1671238
+SHUFFLE	COMPRESS_BYTE_COUNT	521071
+SHUFFLE	COPY_MAP_DATA	31329000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1655176
+SHUFFLE	COMPRESS_BYTE_COUNT	516163
+SHUFFLE	COPY_MAP_DATA	28391000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1662869
+SHUFFLE	COMPRESS_BYTE_COUNT	518014
+SHUFFLE	COPY_MAP_DATA	26634000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1579378
+SHUFFLE	COMPRESS_BYTE_COUNT	498812
+SHUFFLE	COPY_MAP_DATA	1370192000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4560072
+SHUFFLE	COMPRESS_BYTE_COUNT	1399709
+SHUFFLE	COPY_MAP_DATA	84256000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4480692
+SHUFFLE	COMPRESS_BYTE_COUNT	1393199
+SHUFFLE	COPY_MAP_DATA	93285000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	476387474894
+MERGE	READ_WRITE	459006099894
+MERGE	READ_WRITE_COUNT	8
+MERGE	COMBINE	0
+MERGE	WRITE	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	8618196997
+SORT	READ_WRITE	8430539000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	240112096
+REDUCE	SETUP	356000
+REDUCE	SETUP_MEM	240112096
+REDUCE	CLEANUP	36000
+REDUCE	CLEANUP_MEM	229646072
+REDUCE	TOTAL_RUN	659150786889
+REDUCE	READ	20083140000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	629389671889
+REDUCE	WRITE	406468328690
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	55903079
+REDUCE	VALUE_BYTE_COUNT	1648498451
+REDUCE	REDUCE_MEM	229648120
+REDUCE	WRITE	53666000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	1361886825780
@@ -0,0 +1,989 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5525115
+SHUFFLE	COMPRESS_BYTE_COUNT	1717994
+SHUFFLE	COPY_MAP_DATA	616826000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5484823
+SHUFFLE	COMPRESS_BYTE_COUNT	1705591
+SHUFFLE	COPY_MAP_DATA	816254000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5528518
+SHUFFLE	COMPRESS_BYTE_COUNT	1718120
+SHUFFLE	COPY_MAP_DATA	176070000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5502111
+SHUFFLE	COMPRESS_BYTE_COUNT	1709859
+SHUFFLE	COPY_MAP_DATA	446714000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5478887
+SHUFFLE	COMPRESS_BYTE_COUNT	1725523
+SHUFFLE	COPY_MAP_DATA	423346000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5563061
+SHUFFLE	COMPRESS_BYTE_COUNT	1729162
+SHUFFLE	COPY_MAP_DATA	405475000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5504917
+SHUFFLE	COMPRESS_BYTE_COUNT	1711408
+SHUFFLE	COPY_MAP_DATA	432419000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5486309
+SHUFFLE	COMPRESS_BYTE_COUNT	1706095
+SHUFFLE	COPY_MAP_DATA	170285000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5554487
+SHUFFLE	COMPRESS_BYTE_COUNT	1726248
+SHUFFLE	COPY_MAP_DATA	242461000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5526094
+SHUFFLE	COMPRESS_BYTE_COUNT	1718349
+SHUFFLE	COPY_MAP_DATA	118924000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5478900
+SHUFFLE	COMPRESS_BYTE_COUNT	1702406
+SHUFFLE	COPY_MAP_DATA	115037000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5511740
+SHUFFLE	COMPRESS_BYTE_COUNT	1712818
+SHUFFLE	COPY_MAP_DATA	179445000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5496597
+SHUFFLE	COMPRESS_BYTE_COUNT	1706809
+SHUFFLE	COPY_MAP_DATA	100220000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5520202
+SHUFFLE	COMPRESS_BYTE_COUNT	1714581
+SHUFFLE	COPY_MAP_DATA	137065000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5452723
+SHUFFLE	COMPRESS_BYTE_COUNT	1716851
+SHUFFLE	COPY_MAP_DATA	173101000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5493339
+SHUFFLE	COMPRESS_BYTE_COUNT	1708017
+SHUFFLE	COPY_MAP_DATA	105508000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5478677
+SHUFFLE	COMPRESS_BYTE_COUNT	1702819
+SHUFFLE	COPY_MAP_DATA	203091000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5510831
+SHUFFLE	COMPRESS_BYTE_COUNT	1733721
+SHUFFLE	COPY_MAP_DATA	110781000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5516117
+SHUFFLE	COMPRESS_BYTE_COUNT	1714243
+SHUFFLE	COPY_MAP_DATA	164589000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5501343
+SHUFFLE	COMPRESS_BYTE_COUNT	1710503
+SHUFFLE	COPY_MAP_DATA	270136000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5511769
+SHUFFLE	COMPRESS_BYTE_COUNT	1712577
+SHUFFLE	COPY_MAP_DATA	322257000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5497068
+SHUFFLE	COMPRESS_BYTE_COUNT	1708630
+SHUFFLE	COPY_MAP_DATA	278861000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5536151
+SHUFFLE	COMPRESS_BYTE_COUNT	1720293
+SHUFFLE	COPY_MAP_DATA	389660000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5496765
+SHUFFLE	COMPRESS_BYTE_COUNT	1730768
+SHUFFLE	COPY_MAP_DATA	216118000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5497530
+SHUFFLE	COMPRESS_BYTE_COUNT	1709427
+SHUFFLE	COPY_MAP_DATA	126449000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5461783
+SHUFFLE	COMPRESS_BYTE_COUNT	1696514
+SHUFFLE	COPY_MAP_DATA	559859000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5509650
+SHUFFLE	COMPRESS_BYTE_COUNT	1712807
+SHUFFLE	COPY_MAP_DATA	182735000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5576836
+SHUFFLE	COMPRESS_BYTE_COUNT	1710889
+SHUFFLE	COPY_MAP_DATA	297591000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5554598
+SHUFFLE	COMPRESS_BYTE_COUNT	1727980
+SHUFFLE	COPY_MAP_DATA	741817000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5393836
+SHUFFLE	COMPRESS_BYTE_COUNT	1725036
+SHUFFLE	COPY_MAP_DATA	151642000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5513875
+SHUFFLE	COMPRESS_BYTE_COUNT	1714329
+SHUFFLE	COPY_MAP_DATA	90955000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5513858
+SHUFFLE	COMPRESS_BYTE_COUNT	1691271
+SHUFFLE	COPY_MAP_DATA	242151000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5513523
+SHUFFLE	COMPRESS_BYTE_COUNT	1713813
+SHUFFLE	COPY_MAP_DATA	91173000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5541397
+SHUFFLE	COMPRESS_BYTE_COUNT	1699819
+SHUFFLE	COPY_MAP_DATA	343620000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5493815
+SHUFFLE	COMPRESS_BYTE_COUNT	1686078
+SHUFFLE	COPY_MAP_DATA	120405000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5471670
+SHUFFLE	COMPRESS_BYTE_COUNT	1699231
+SHUFFLE	COPY_MAP_DATA	99129000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5555979
+SHUFFLE	COMPRESS_BYTE_COUNT	1703416
+SHUFFLE	COPY_MAP_DATA	124693000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5468560
+SHUFFLE	COMPRESS_BYTE_COUNT	1700032
+SHUFFLE	COPY_MAP_DATA	112090000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5610962
+SHUFFLE	COMPRESS_BYTE_COUNT	1722293
+SHUFFLE	COPY_MAP_DATA	89549000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5468350
+SHUFFLE	COMPRESS_BYTE_COUNT	1700581
+SHUFFLE	COPY_MAP_DATA	94093000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5552076
+SHUFFLE	COMPRESS_BYTE_COUNT	1725021
+SHUFFLE	COPY_MAP_DATA	1071361000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5488460
+SHUFFLE	COMPRESS_BYTE_COUNT	1707351
+SHUFFLE	COPY_MAP_DATA	3346415000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5568937
+SHUFFLE	COMPRESS_BYTE_COUNT	1709161
+SHUFFLE	COPY_MAP_DATA	332497000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5585730
+SHUFFLE	COMPRESS_BYTE_COUNT	1735136
+SHUFFLE	COPY_MAP_DATA	531907000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5512457
+SHUFFLE	COMPRESS_BYTE_COUNT	1713608
+SHUFFLE	COPY_MAP_DATA	1229119000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5517606
+SHUFFLE	COMPRESS_BYTE_COUNT	1693344
+SHUFFLE	COPY_MAP_DATA	98610000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5502728
+SHUFFLE	COMPRESS_BYTE_COUNT	1710541
+SHUFFLE	COPY_MAP_DATA	594487000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5487785
+SHUFFLE	COMPRESS_BYTE_COUNT	1728040
+SHUFFLE	COPY_MAP_DATA	111350000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5532101
+SHUFFLE	COMPRESS_BYTE_COUNT	1719947
+SHUFFLE	COPY_MAP_DATA	390555000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5468714
+SHUFFLE	COMPRESS_BYTE_COUNT	1700200
+SHUFFLE	COPY_MAP_DATA	371686000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5505572
+SHUFFLE	COMPRESS_BYTE_COUNT	1710975
+SHUFFLE	COPY_MAP_DATA	1176710000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5509070
+SHUFFLE	COMPRESS_BYTE_COUNT	1712350
+SHUFFLE	COPY_MAP_DATA	164957000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5528812
+SHUFFLE	COMPRESS_BYTE_COUNT	1697307
+SHUFFLE	COPY_MAP_DATA	428358000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5519901
+SHUFFLE	COMPRESS_BYTE_COUNT	1694678
+SHUFFLE	COPY_MAP_DATA	200520000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5633158
+SHUFFLE	COMPRESS_BYTE_COUNT	1728866
+SHUFFLE	COPY_MAP_DATA	6464690000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5516949
+SHUFFLE	COMPRESS_BYTE_COUNT	1711452
+SHUFFLE	COPY_MAP_DATA	104579000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5471690
+SHUFFLE	COMPRESS_BYTE_COUNT	1701307
+SHUFFLE	COPY_MAP_DATA	601278000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5547102
+SHUFFLE	COMPRESS_BYTE_COUNT	1702496
+SHUFFLE	COPY_MAP_DATA	228232000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5613180
+SHUFFLE	COMPRESS_BYTE_COUNT	1722813
+SHUFFLE	COPY_MAP_DATA	384290000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5572119
+SHUFFLE	COMPRESS_BYTE_COUNT	1711692
+SHUFFLE	COPY_MAP_DATA	91379000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5585113
+SHUFFLE	COMPRESS_BYTE_COUNT	1713881
+SHUFFLE	COPY_MAP_DATA	192951000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5552548
+SHUFFLE	COMPRESS_BYTE_COUNT	1704294
+SHUFFLE	COPY_MAP_DATA	97804000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5523864
+SHUFFLE	COMPRESS_BYTE_COUNT	1739430
+SHUFFLE	COPY_MAP_DATA	124733000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5631351
+SHUFFLE	COMPRESS_BYTE_COUNT	1727260
+SHUFFLE	COPY_MAP_DATA	121268000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5555044
+SHUFFLE	COMPRESS_BYTE_COUNT	1705151
+SHUFFLE	COPY_MAP_DATA	360982000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5525483
+SHUFFLE	COMPRESS_BYTE_COUNT	1739227
+SHUFFLE	COPY_MAP_DATA	184091000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5574988
+SHUFFLE	COMPRESS_BYTE_COUNT	1711272
+SHUFFLE	COPY_MAP_DATA	371706000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5575407
+SHUFFLE	COMPRESS_BYTE_COUNT	1711282
+SHUFFLE	COPY_MAP_DATA	114702000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5541862
+SHUFFLE	COMPRESS_BYTE_COUNT	1701016
+SHUFFLE	COPY_MAP_DATA	88090000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5520364
+SHUFFLE	COMPRESS_BYTE_COUNT	1694501
+SHUFFLE	COPY_MAP_DATA	175947000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5576194
+SHUFFLE	COMPRESS_BYTE_COUNT	1711537
+SHUFFLE	COPY_MAP_DATA	123966000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5505672
+SHUFFLE	COMPRESS_BYTE_COUNT	1689724
+SHUFFLE	COPY_MAP_DATA	341753000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5541928
+SHUFFLE	COMPRESS_BYTE_COUNT	1701524
+SHUFFLE	COPY_MAP_DATA	1469950000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5564771
+SHUFFLE	COMPRESS_BYTE_COUNT	1708489
+SHUFFLE	COPY_MAP_DATA	109972000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5521444
+SHUFFLE	COMPRESS_BYTE_COUNT	1695106
+SHUFFLE	COPY_MAP_DATA	88537000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5546500
+SHUFFLE	COMPRESS_BYTE_COUNT	1703026
+SHUFFLE	COPY_MAP_DATA	146794000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5556889
+SHUFFLE	COMPRESS_BYTE_COUNT	1704625
+SHUFFLE	COPY_MAP_DATA	120992000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5499319
+SHUFFLE	COMPRESS_BYTE_COUNT	1727928
+SHUFFLE	COPY_MAP_DATA	177935000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5543206
+SHUFFLE	COMPRESS_BYTE_COUNT	1701073
+SHUFFLE	COPY_MAP_DATA	323007000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5557231
+SHUFFLE	COMPRESS_BYTE_COUNT	1706044
+SHUFFLE	COPY_MAP_DATA	129435000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5502647
+SHUFFLE	COMPRESS_BYTE_COUNT	1690331
+SHUFFLE	COPY_MAP_DATA	318101000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5564095
+SHUFFLE	COMPRESS_BYTE_COUNT	1707514
+SHUFFLE	COPY_MAP_DATA	839774000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5528795
+SHUFFLE	COMPRESS_BYTE_COUNT	1697072
+SHUFFLE	COPY_MAP_DATA	1543487141
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5548050
+SHUFFLE	COMPRESS_BYTE_COUNT	1701706
+SHUFFLE	COPY_MAP_DATA	8586793000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5525859
+SHUFFLE	COMPRESS_BYTE_COUNT	1696270
+SHUFFLE	COPY_MAP_DATA	226864000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5542043
+SHUFFLE	COMPRESS_BYTE_COUNT	1702118
+SHUFFLE	COPY_MAP_DATA	143519000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5533319
+SHUFFLE	COMPRESS_BYTE_COUNT	1698378
+SHUFFLE	COPY_MAP_DATA	1961937000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5545409
+SHUFFLE	COMPRESS_BYTE_COUNT	1701571
+SHUFFLE	COPY_MAP_DATA	143632000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5543905
+SHUFFLE	COMPRESS_BYTE_COUNT	1702625
+SHUFFLE	COPY_MAP_DATA	142100000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5571018
+SHUFFLE	COMPRESS_BYTE_COUNT	1710064
+SHUFFLE	COPY_MAP_DATA	104295000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5563533
+SHUFFLE	COMPRESS_BYTE_COUNT	1707939
+SHUFFLE	COPY_MAP_DATA	2279679000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5562631
+SHUFFLE	COMPRESS_BYTE_COUNT	1707619
+SHUFFLE	COPY_MAP_DATA	88384000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5551326
+SHUFFLE	COMPRESS_BYTE_COUNT	1703793
+SHUFFLE	COPY_MAP_DATA	853041000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5531483
+SHUFFLE	COMPRESS_BYTE_COUNT	1698007
+SHUFFLE	COPY_MAP_DATA	168424000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5581711
+SHUFFLE	COMPRESS_BYTE_COUNT	1713683
+SHUFFLE	COPY_MAP_DATA	163759000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5535952
+SHUFFLE	COMPRESS_BYTE_COUNT	1698993
+SHUFFLE	COPY_MAP_DATA	144919000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5516440
+SHUFFLE	COMPRESS_BYTE_COUNT	1714208
+SHUFFLE	COPY_MAP_DATA	597303000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5527377
+SHUFFLE	COMPRESS_BYTE_COUNT	1716996
+SHUFFLE	COPY_MAP_DATA	260217000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5540110
+SHUFFLE	COMPRESS_BYTE_COUNT	1701255
+SHUFFLE	COPY_MAP_DATA	275496000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5504050
+SHUFFLE	COMPRESS_BYTE_COUNT	1711134
+SHUFFLE	COPY_MAP_DATA	127074000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5603834
+SHUFFLE	COMPRESS_BYTE_COUNT	1720017
+SHUFFLE	COPY_MAP_DATA	111525000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5520892
+SHUFFLE	COMPRESS_BYTE_COUNT	1696461
+SHUFFLE	COPY_MAP_DATA	1363954000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5522373
+SHUFFLE	COMPRESS_BYTE_COUNT	1695152
+SHUFFLE	COPY_MAP_DATA	817939000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5567346
+SHUFFLE	COMPRESS_BYTE_COUNT	1708584
+SHUFFLE	COPY_MAP_DATA	260495000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5585850
+SHUFFLE	COMPRESS_BYTE_COUNT	1713234
+SHUFFLE	COPY_MAP_DATA	706105000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5542715
+SHUFFLE	COMPRESS_BYTE_COUNT	1701478
+SHUFFLE	COPY_MAP_DATA	753538000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5536339
+SHUFFLE	COMPRESS_BYTE_COUNT	1699622
+SHUFFLE	COPY_MAP_DATA	889344000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5475008
+SHUFFLE	COMPRESS_BYTE_COUNT	1701877
+SHUFFLE	COPY_MAP_DATA	91728000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5530350
+SHUFFLE	COMPRESS_BYTE_COUNT	1697063
+SHUFFLE	COPY_MAP_DATA	196694000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5619458
+SHUFFLE	COMPRESS_BYTE_COUNT	1724745
+SHUFFLE	COPY_MAP_DATA	7762713000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5575641
+SHUFFLE	COMPRESS_BYTE_COUNT	1711725
+SHUFFLE	COPY_MAP_DATA	1955317000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5546448
+SHUFFLE	COMPRESS_BYTE_COUNT	1701393
+SHUFFLE	COPY_MAP_DATA	194032000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5501311
+SHUFFLE	COMPRESS_BYTE_COUNT	1687983
+SHUFFLE	COPY_MAP_DATA	3574694000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5555015
+SHUFFLE	COMPRESS_BYTE_COUNT	1705290
+SHUFFLE	COPY_MAP_DATA	205414000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5586560
+SHUFFLE	COMPRESS_BYTE_COUNT	1714572
+SHUFFLE	COPY_MAP_DATA	1963970000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5544454
+SHUFFLE	COMPRESS_BYTE_COUNT	1702089
+SHUFFLE	COPY_MAP_DATA	1792676000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5462472
+SHUFFLE	COMPRESS_BYTE_COUNT	1698652
+SHUFFLE	COPY_MAP_DATA	376790000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5487622
+SHUFFLE	COMPRESS_BYTE_COUNT	1706254
+SHUFFLE	COPY_MAP_DATA	95680000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5551917
+SHUFFLE	COMPRESS_BYTE_COUNT	1725672
+SHUFFLE	COPY_MAP_DATA	181837000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5510006
+SHUFFLE	COMPRESS_BYTE_COUNT	1712053
+SHUFFLE	COPY_MAP_DATA	510240000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5529149
+SHUFFLE	COMPRESS_BYTE_COUNT	1718582
+SHUFFLE	COPY_MAP_DATA	422589000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5525791
+SHUFFLE	COMPRESS_BYTE_COUNT	1716909
+SHUFFLE	COPY_MAP_DATA	103353000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5608589
+SHUFFLE	COMPRESS_BYTE_COUNT	1721324
+SHUFFLE	COPY_MAP_DATA	112627000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5555620
+SHUFFLE	COMPRESS_BYTE_COUNT	1725437
+SHUFFLE	COPY_MAP_DATA	103328000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5550650
+SHUFFLE	COMPRESS_BYTE_COUNT	1725169
+SHUFFLE	COPY_MAP_DATA	93354000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5509341
+SHUFFLE	COMPRESS_BYTE_COUNT	1712117
+SHUFFLE	COPY_MAP_DATA	94450000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5544962
+SHUFFLE	COMPRESS_BYTE_COUNT	1723058
+SHUFFLE	COPY_MAP_DATA	100230000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5471060
+SHUFFLE	COMPRESS_BYTE_COUNT	1701119
+SHUFFLE	COPY_MAP_DATA	447677000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5524835
+SHUFFLE	COMPRESS_BYTE_COUNT	1716266
+SHUFFLE	COPY_MAP_DATA	114094000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5544134
+SHUFFLE	COMPRESS_BYTE_COUNT	1723098
+SHUFFLE	COPY_MAP_DATA	306729000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5526420
+SHUFFLE	COMPRESS_BYTE_COUNT	1696820
+SHUFFLE	COPY_MAP_DATA	117902000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5554237
+SHUFFLE	COMPRESS_BYTE_COUNT	1726169
+SHUFFLE	COPY_MAP_DATA	98946000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5557727
+SHUFFLE	COMPRESS_BYTE_COUNT	1727502
+SHUFFLE	COPY_MAP_DATA	323196000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5549285
+SHUFFLE	COMPRESS_BYTE_COUNT	1703951
+SHUFFLE	COPY_MAP_DATA	216426000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5473498
+SHUFFLE	COMPRESS_BYTE_COUNT	1700720
+SHUFFLE	COPY_MAP_DATA	112865000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5531506
+SHUFFLE	COMPRESS_BYTE_COUNT	1719369
+SHUFFLE	COPY_MAP_DATA	173964000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5497598
+SHUFFLE	COMPRESS_BYTE_COUNT	1708462
+SHUFFLE	COPY_MAP_DATA	146701000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5530574
+SHUFFLE	COMPRESS_BYTE_COUNT	1719585
+SHUFFLE	COPY_MAP_DATA	98787000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5545746
+SHUFFLE	COMPRESS_BYTE_COUNT	1723269
+SHUFFLE	COPY_MAP_DATA	208411000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5534528
+SHUFFLE	COMPRESS_BYTE_COUNT	1718635
+SHUFFLE	COPY_MAP_DATA	176649000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5501577
+SHUFFLE	COMPRESS_BYTE_COUNT	1710343
+SHUFFLE	COPY_MAP_DATA	89899000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5525363
+SHUFFLE	COMPRESS_BYTE_COUNT	1717531
+SHUFFLE	COPY_MAP_DATA	95319000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5503630
+SHUFFLE	COMPRESS_BYTE_COUNT	1711381
+SHUFFLE	COPY_MAP_DATA	89356000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5468504
+SHUFFLE	COMPRESS_BYTE_COUNT	1700500
+SHUFFLE	COPY_MAP_DATA	1450384000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5408765
+SHUFFLE	COMPRESS_BYTE_COUNT	1682749
+SHUFFLE	COPY_MAP_DATA	554002000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5513289
+SHUFFLE	COMPRESS_BYTE_COUNT	1713350
+SHUFFLE	COPY_MAP_DATA	379434000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5505323
+SHUFFLE	COMPRESS_BYTE_COUNT	1710584
+SHUFFLE	COPY_MAP_DATA	89256000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5544513
+SHUFFLE	COMPRESS_BYTE_COUNT	1726807
+SHUFFLE	COPY_MAP_DATA	747723000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5563446
+SHUFFLE	COMPRESS_BYTE_COUNT	1733539
+SHUFFLE	COPY_MAP_DATA	305227000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5513770
+SHUFFLE	COMPRESS_BYTE_COUNT	1712777
+SHUFFLE	COPY_MAP_DATA	90753000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5556988
+SHUFFLE	COMPRESS_BYTE_COUNT	1729222
+SHUFFLE	COPY_MAP_DATA	91787000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5547625
+SHUFFLE	COMPRESS_BYTE_COUNT	1729333
+SHUFFLE	COPY_MAP_DATA	289542000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5606584
+SHUFFLE	COMPRESS_BYTE_COUNT	1729432
+SHUFFLE	COPY_MAP_DATA	97591000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5548690
+SHUFFLE	COMPRESS_BYTE_COUNT	1728355
+SHUFFLE	COPY_MAP_DATA	211307000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5589379
+SHUFFLE	COMPRESS_BYTE_COUNT	1725242
+SHUFFLE	COPY_MAP_DATA	106681000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5555277
+SHUFFLE	COMPRESS_BYTE_COUNT	1731876
+SHUFFLE	COPY_MAP_DATA	386477000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5596762
+SHUFFLE	COMPRESS_BYTE_COUNT	1727254
+SHUFFLE	COPY_MAP_DATA	255184000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5561135
+SHUFFLE	COMPRESS_BYTE_COUNT	1731401
+SHUFFLE	COPY_MAP_DATA	530877000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5613442
+SHUFFLE	COMPRESS_BYTE_COUNT	1731956
+SHUFFLE	COPY_MAP_DATA	88553000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5481073
+SHUFFLE	COMPRESS_BYTE_COUNT	1703000
+SHUFFLE	COPY_MAP_DATA	108360000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5476173
+SHUFFLE	COMPRESS_BYTE_COUNT	1703337
+SHUFFLE	COPY_MAP_DATA	106152000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5594650
+SHUFFLE	COMPRESS_BYTE_COUNT	1727111
+SHUFFLE	COPY_MAP_DATA	85423000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5553293
+SHUFFLE	COMPRESS_BYTE_COUNT	1729908
+SHUFFLE	COPY_MAP_DATA	88104000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4683811
+SHUFFLE	COMPRESS_BYTE_COUNT	1439492
+SHUFFLE	COPY_MAP_DATA	160959000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4720501
+SHUFFLE	COMPRESS_BYTE_COUNT	1449658
+SHUFFLE	COPY_MAP_DATA	128709000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4450061
+SHUFFLE	COMPRESS_BYTE_COUNT	1384034
+SHUFFLE	COPY_MAP_DATA	132867000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4729539
+SHUFFLE	COMPRESS_BYTE_COUNT	1452732
+SHUFFLE	COPY_MAP_DATA	460319000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5589074
+SHUFFLE	COMPRESS_BYTE_COUNT	1725966
+SHUFFLE	COPY_MAP_DATA	454107000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4475992
+SHUFFLE	COMPRESS_BYTE_COUNT	1390495
+SHUFFLE	COPY_MAP_DATA	313606000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5585880
+SHUFFLE	COMPRESS_BYTE_COUNT	1724477
+SHUFFLE	COPY_MAP_DATA	517184000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5525195
+SHUFFLE	COMPRESS_BYTE_COUNT	1737503
+SHUFFLE	COPY_MAP_DATA	491824000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5559292
+SHUFFLE	COMPRESS_BYTE_COUNT	1732509
+SHUFFLE	COPY_MAP_DATA	247788000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5601793
+SHUFFLE	COMPRESS_BYTE_COUNT	1729028
+SHUFFLE	COPY_MAP_DATA	294487000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5608159
+SHUFFLE	COMPRESS_BYTE_COUNT	1731711
+SHUFFLE	COPY_MAP_DATA	183545000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5561587
+SHUFFLE	COMPRESS_BYTE_COUNT	1732690
+SHUFFLE	COPY_MAP_DATA	96772000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4482919
+SHUFFLE	COMPRESS_BYTE_COUNT	1393392
+SHUFFLE	COPY_MAP_DATA	73895000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5502589
+SHUFFLE	COMPRESS_BYTE_COUNT	1745063
+SHUFFLE	COPY_MAP_DATA	200875000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5583905
+SHUFFLE	COMPRESS_BYTE_COUNT	1723743
+SHUFFLE	COPY_MAP_DATA	231975000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4450108
+SHUFFLE	COMPRESS_BYTE_COUNT	1383715
+SHUFFLE	COPY_MAP_DATA	128283000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5595378
+SHUFFLE	COMPRESS_BYTE_COUNT	1725922
+SHUFFLE	COPY_MAP_DATA	192674000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1740244
+SHUFFLE	COMPRESS_BYTE_COUNT	537525
+SHUFFLE	COPY_MAP_DATA	931455000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5541410
+SHUFFLE	COMPRESS_BYTE_COUNT	1726308
+SHUFFLE	COPY_MAP_DATA	126654000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5585750
+SHUFFLE	COMPRESS_BYTE_COUNT	1723978
+SHUFFLE	COPY_MAP_DATA	187221000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5597571
+SHUFFLE	COMPRESS_BYTE_COUNT	1728758
+SHUFFLE	COPY_MAP_DATA	205029000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1747957
+SHUFFLE	COMPRESS_BYTE_COUNT	539580
+SHUFFLE	COPY_MAP_DATA	30997000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4685220
+SHUFFLE	COMPRESS_BYTE_COUNT	1438838
+SHUFFLE	COPY_MAP_DATA	195515000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4730119
+SHUFFLE	COMPRESS_BYTE_COUNT	1451860
+SHUFFLE	COPY_MAP_DATA	75945000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5560847
+SHUFFLE	COMPRESS_BYTE_COUNT	1732120
+SHUFFLE	COPY_MAP_DATA	232496000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4390942
+SHUFFLE	COMPRESS_BYTE_COUNT	1364843
+SHUFFLE	COPY_MAP_DATA	73641000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4738253
+SHUFFLE	COMPRESS_BYTE_COUNT	1455401
+SHUFFLE	COPY_MAP_DATA	986717000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4471513
+SHUFFLE	COMPRESS_BYTE_COUNT	1390534
+SHUFFLE	COPY_MAP_DATA	78399000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4421797
+SHUFFLE	COMPRESS_BYTE_COUNT	1374098
+SHUFFLE	COPY_MAP_DATA	74058000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1737913
+SHUFFLE	COMPRESS_BYTE_COUNT	537073
+SHUFFLE	COPY_MAP_DATA	30538000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1663571
+SHUFFLE	COMPRESS_BYTE_COUNT	519158
+SHUFFLE	COPY_MAP_DATA	29683000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1745338
+SHUFFLE	COMPRESS_BYTE_COUNT	539132
+SHUFFLE	COPY_MAP_DATA	29071000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5548779
+SHUFFLE	COMPRESS_BYTE_COUNT	1728451
+SHUFFLE	COPY_MAP_DATA	289550000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4799187
+SHUFFLE	COMPRESS_BYTE_COUNT	1473718
+SHUFFLE	COPY_MAP_DATA	79103000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4411311
+SHUFFLE	COMPRESS_BYTE_COUNT	1371900
+SHUFFLE	COPY_MAP_DATA	89071000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4371996
+SHUFFLE	COMPRESS_BYTE_COUNT	1359204
+SHUFFLE	COPY_MAP_DATA	72791000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5559949
+SHUFFLE	COMPRESS_BYTE_COUNT	1732023
+SHUFFLE	COPY_MAP_DATA	245641000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1664884
+SHUFFLE	COMPRESS_BYTE_COUNT	519929
+SHUFFLE	COPY_MAP_DATA	73001000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4725544
+SHUFFLE	COMPRESS_BYTE_COUNT	1452700
+SHUFFLE	COPY_MAP_DATA	97506000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1737352
+SHUFFLE	COMPRESS_BYTE_COUNT	537336
+SHUFFLE	COPY_MAP_DATA	70402000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1739990
+SHUFFLE	COMPRESS_BYTE_COUNT	537950
+SHUFFLE	COPY_MAP_DATA	234842000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1737398
+SHUFFLE	COMPRESS_BYTE_COUNT	536986
+SHUFFLE	COPY_MAP_DATA	210359000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5544383
+SHUFFLE	COMPRESS_BYTE_COUNT	1727945
+SHUFFLE	COPY_MAP_DATA	146018000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1736529
+SHUFFLE	COMPRESS_BYTE_COUNT	537065
+SHUFFLE	COPY_MAP_DATA	33658000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4719765
+SHUFFLE	COMPRESS_BYTE_COUNT	1448721
+SHUFFLE	COPY_MAP_DATA	197763000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4764898
+SHUFFLE	COMPRESS_BYTE_COUNT	1462091
+SHUFFLE	COPY_MAP_DATA	320790000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4144523
+SHUFFLE	COMPRESS_BYTE_COUNT	1305019
+SHUFFLE	COPY_MAP_DATA	1109865000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4500588
+SHUFFLE	COMPRESS_BYTE_COUNT	1398549
+SHUFFLE	COPY_MAP_DATA	434887000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1733957
+SHUFFLE	COMPRESS_BYTE_COUNT	535843
+SHUFFLE	COPY_MAP_DATA	76727445
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4745642
+SHUFFLE	COMPRESS_BYTE_COUNT	1457270
+SHUFFLE	COPY_MAP_DATA	125406000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1743995
+SHUFFLE	COMPRESS_BYTE_COUNT	539274
+SHUFFLE	COPY_MAP_DATA	48561000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4746436
+SHUFFLE	COMPRESS_BYTE_COUNT	1457328
+SHUFFLE	COPY_MAP_DATA	113073000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4460991
+SHUFFLE	COMPRESS_BYTE_COUNT	1387591
+SHUFFLE	COPY_MAP_DATA	133178000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1659279
+SHUFFLE	COMPRESS_BYTE_COUNT	518683
+SHUFFLE	COPY_MAP_DATA	2051806000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1666415
+SHUFFLE	COMPRESS_BYTE_COUNT	520218
+SHUFFLE	COPY_MAP_DATA	33966000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1663621
+SHUFFLE	COMPRESS_BYTE_COUNT	519029
+SHUFFLE	COPY_MAP_DATA	134898000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1746543
+SHUFFLE	COMPRESS_BYTE_COUNT	539254
+SHUFFLE	COPY_MAP_DATA	27912000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1671152
+SHUFFLE	COMPRESS_BYTE_COUNT	520705
+SHUFFLE	COPY_MAP_DATA	48299000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1662416
+SHUFFLE	COMPRESS_BYTE_COUNT	519386
+SHUFFLE	COPY_MAP_DATA	28449000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4299339
+SHUFFLE	COMPRESS_BYTE_COUNT	1336227
+SHUFFLE	COPY_MAP_DATA	70553000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1665834
+SHUFFLE	COMPRESS_BYTE_COUNT	519913
+SHUFFLE	COPY_MAP_DATA	28817000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1695031
+SHUFFLE	COMPRESS_BYTE_COUNT	523686
+SHUFFLE	COPY_MAP_DATA	29552000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1623902
+SHUFFLE	COMPRESS_BYTE_COUNT	506889
+SHUFFLE	COPY_MAP_DATA	42769000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1733985
+SHUFFLE	COMPRESS_BYTE_COUNT	536597
+SHUFFLE	COPY_MAP_DATA	115577000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1664957
+SHUFFLE	COMPRESS_BYTE_COUNT	519374
+SHUFFLE	COPY_MAP_DATA	46144000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1729131
+SHUFFLE	COMPRESS_BYTE_COUNT	534876
+SHUFFLE	COPY_MAP_DATA	49089000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1664838
+SHUFFLE	COMPRESS_BYTE_COUNT	519304
+SHUFFLE	COPY_MAP_DATA	44301000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4491909
+SHUFFLE	COMPRESS_BYTE_COUNT	1396702
+SHUFFLE	COPY_MAP_DATA	89993000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1672403
+SHUFFLE	COMPRESS_BYTE_COUNT	520762
+SHUFFLE	COPY_MAP_DATA	102624000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1652893
+SHUFFLE	COMPRESS_BYTE_COUNT	516086
+SHUFFLE	COPY_MAP_DATA	144495000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1667955
+SHUFFLE	COMPRESS_BYTE_COUNT	520745
+SHUFFLE	COPY_MAP_DATA	26941000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4719640
+SHUFFLE	COMPRESS_BYTE_COUNT	1448734
+SHUFFLE	COPY_MAP_DATA	82417000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1660792
+SHUFFLE	COMPRESS_BYTE_COUNT	518553
+SHUFFLE	COPY_MAP_DATA	25593000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4443537
+SHUFFLE	COMPRESS_BYTE_COUNT	1381704
+SHUFFLE	COPY_MAP_DATA	825160000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1580606
+SHUFFLE	COMPRESS_BYTE_COUNT	498961
+SHUFFLE	COPY_MAP_DATA	33513000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4596137
+SHUFFLE	COMPRESS_BYTE_COUNT	1410803
+SHUFFLE	COPY_MAP_DATA	70041000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4439715
+SHUFFLE	COMPRESS_BYTE_COUNT	1379680
+SHUFFLE	COPY_MAP_DATA	98169000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	488371852746
+MERGE	READ_WRITE	474226650746
+MERGE	READ_WRITE_COUNT	8
+MERGE	COMBINE	0
+MERGE	WRITE	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	11838476000
+SORT	READ_WRITE	11582480000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	257613632
+REDUCE	SETUP	404000
+REDUCE	SETUP_MEM	257613632
+REDUCE	CLEANUP	39000
+REDUCE	CLEANUP_MEM	68748840
+REDUCE	TOTAL_RUN	1000191940963
+REDUCE	READ	112760330445
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	874792070518
+REDUCE	WRITE	318074743169
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	55891831
+REDUCE	VALUE_BYTE_COUNT	1648121184
+REDUCE	REDUCE_MEM	68750888
+REDUCE	WRITE	329639000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	1703339061740
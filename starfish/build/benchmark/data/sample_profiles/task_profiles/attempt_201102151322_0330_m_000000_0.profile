@@ -0,0 +1,43 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.1	0
+MAP	STARTUP_MEM	213537344
+MAP	SETUP	3322000
+MAP	SETUP_MEM	213537344
+MAP	CLEANUP	117000
+MAP	CLEANUP_MEM	239570912
+MAP	TOTAL_RUN	26647503000
+MAP	READ	3876139000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	8576820
+MAP	VALUE_BYTE_COUNT	133168116
+MAP	MAP	18898797000
+MAP	WRITE	6534015000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	953444000
+MAP	SERIALIZE_OUTPUT	2317705000
+MAP	MAP_MEM	239570912
+SPILL	SORT_AND_SPILL	29762792000
+SPILL	QUICK_SORT	1552394000
+SPILL	SORT_COUNT	1048576
+SPILL	COMBINE	0
+SPILL	WRITE	28210398000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	146650753
+SPILL	COMPRESS_BYTE_COUNT	46898333
+SPILL	SORT_AND_SPILL	30288000
+SPILL	QUICK_SORT	505000
+SPILL	SORT_COUNT	1095
+SPILL	COMBINE	0
+SPILL	WRITE	29783000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	155462
+SPILL	COMPRESS_BYTE_COUNT	61065
+MERGE	TOTAL_MERGE	50509783000
+MERGE	READ_WRITE	50438777000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	107441946000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.1	0
+MAP	STARTUP_MEM	212688032
+MAP	SETUP	3643000
+MAP	SETUP_MEM	214005056
+MAP	CLEANUP	90000
+MAP	CLEANUP_MEM	235317240
+MAP	TOTAL_RUN	24525920000
+MAP	READ	3923321000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9370926
+MAP	VALUE_BYTE_COUNT	133176495
+MAP	MAP	17108908000
+MAP	WRITE	5574578000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1132594000
+MAP	SERIALIZE_OUTPUT	2066501000
+MAP	MAP_MEM	235317240
+SPILL	SORT_AND_SPILL	30780785000
+SPILL	QUICK_SORT	1704353000
+SPILL	SORT_COUNT	1041214
+SPILL	COMBINE	0
+SPILL	WRITE	29076432000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	147870000
+SPILL	COMPRESS_BYTE_COUNT	46558834
+MERGE	TOTAL_MERGE	8015000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	56023075000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.1	0
+MAP	STARTUP_MEM	212670512
+MAP	SETUP	3513000
+MAP	SETUP_MEM	213960192
+MAP	CLEANUP	90000
+MAP	CLEANUP_MEM	234958432
+MAP	TOTAL_RUN	25683910000
+MAP	READ	6073348000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9368829
+MAP	VALUE_BYTE_COUNT	133176715
+MAP	MAP	15674390000
+MAP	WRITE	5134888000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1243393000
+MAP	SERIALIZE_OUTPUT	1720041000
+MAP	MAP_MEM	235520592
+SPILL	SORT_AND_SPILL	30042452000
+SPILL	QUICK_SORT	1553942000
+SPILL	SORT_COUNT	1040981
+SPILL	COMBINE	0
+SPILL	WRITE	28488510000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	147869197
+SPILL	COMPRESS_BYTE_COUNT	46552818
+MERGE	TOTAL_MERGE	1611000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	56446696000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.1	0
+MAP	STARTUP_MEM	213554728
+MAP	SETUP	3640000
+MAP	SETUP_MEM	214873944
+MAP	CLEANUP	88000
+MAP	CLEANUP_MEM	236344752
+MAP	TOTAL_RUN	23708026000
+MAP	READ	3609352000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9370782
+MAP	VALUE_BYTE_COUNT	133176590
+MAP	MAP	16760824000
+MAP	WRITE	5339883000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	916004000
+MAP	SERIALIZE_OUTPUT	2126050000
+MAP	MAP_MEM	236906912
+SPILL	SORT_AND_SPILL	30335923000
+SPILL	QUICK_SORT	1569582000
+SPILL	SORT_COUNT	1041198
+SPILL	COMBINE	0
+SPILL	WRITE	28766341000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	147870561
+SPILL	COMPRESS_BYTE_COUNT	46561086
+MERGE	TOTAL_MERGE	1859000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	54867014000
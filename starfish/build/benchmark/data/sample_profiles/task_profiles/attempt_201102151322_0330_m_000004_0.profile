@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.1	0
+MAP	STARTUP_MEM	212654504
+MAP	SETUP	5195000
+MAP	SETUP_MEM	213938112
+MAP	CLEANUP	110000
+MAP	CLEANUP_MEM	236778264
+MAP	TOTAL_RUN	26087674000
+MAP	READ	3648226000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9371025
+MAP	VALUE_BYTE_COUNT	133176548
+MAP	MAP	18639612000
+MAP	WRITE	5427935000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	958766000
+MAP	SERIALIZE_OUTPUT	1956730000
+MAP	MAP_MEM	236778264
+SPILL	SORT_AND_SPILL	30141453000
+SPILL	QUICK_SORT	1683735000
+SPILL	SORT_COUNT	1041225
+SPILL	COMBINE	0
+SPILL	WRITE	28457718000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	147870140
+SPILL	COMPRESS_BYTE_COUNT	46565130
+MERGE	TOTAL_MERGE	1697000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	56999739000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.10	0
+MAP	STARTUP_MEM	213545536
+MAP	SETUP	3371000
+MAP	SETUP_MEM	213545536
+MAP	CLEANUP	98000
+MAP	CLEANUP_MEM	226816176
+MAP	TOTAL_RUN	24308867000
+MAP	READ	3653594000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	8442423
+MAP	VALUE_BYTE_COUNT	133184678
+MAP	MAP	16902446000
+MAP	WRITE	5451787000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	911595000
+MAP	SERIALIZE_OUTPUT	2155023000
+MAP	MAP_MEM	226816176
+SPILL	SORT_AND_SPILL	30199457000
+SPILL	QUICK_SORT	1602695000
+SPILL	SORT_COUNT	1033069
+SPILL	COMBINE	0
+SPILL	WRITE	28596762000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	148858471
+SPILL	COMPRESS_BYTE_COUNT	46266250
+MERGE	TOTAL_MERGE	1586000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	54965162000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.10	0
+MAP	STARTUP_MEM	213524696
+MAP	SETUP	5504000
+MAP	SETUP_MEM	214812872
+MAP	CLEANUP	95000
+MAP	CLEANUP_MEM	228170720
+MAP	TOTAL_RUN	27596391000
+MAP	READ	4351484000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9297882
+MAP	VALUE_BYTE_COUNT	133184665
+MAP	MAP	18623144000
+MAP	WRITE	6430744000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1193600000
+MAP	SERIALIZE_OUTPUT	2038279000
+MAP	MAP_MEM	228170720
+SPILL	SORT_AND_SPILL	33504546183
+SPILL	QUICK_SORT	1701334000
+SPILL	SORT_COUNT	1033098
+SPILL	COMBINE	0
+SPILL	WRITE	31803212183
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	148858240
+SPILL	COMPRESS_BYTE_COUNT	46270231
+MERGE	TOTAL_MERGE	52222000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	61917905183
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.10	0
+MAP	STARTUP_MEM	212689000
+MAP	SETUP	3643000
+MAP	SETUP_MEM	214006968
+MAP	CLEANUP	115000
+MAP	CLEANUP_MEM	227643320
+MAP	TOTAL_RUN	26383969000
+MAP	READ	4359954000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9297855
+MAP	VALUE_BYTE_COUNT	133184614
+MAP	MAP	18461076000
+MAP	WRITE	5182866000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	893796000
+MAP	SERIALIZE_OUTPUT	1804397000
+MAP	MAP_MEM	228205480
+SPILL	SORT_AND_SPILL	30310231000
+SPILL	QUICK_SORT	1768653000
+SPILL	SORT_COUNT	1033095
+SPILL	COMBINE	0
+SPILL	WRITE	28541578000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	148858416
+SPILL	COMPRESS_BYTE_COUNT	46270531
+MERGE	TOTAL_MERGE	20503000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	57502360000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.10	0
+MAP	STARTUP_MEM	212696840
+MAP	SETUP	3636000
+MAP	SETUP_MEM	214022800
+MAP	CLEANUP	127000
+MAP	CLEANUP_MEM	227653144
+MAP	TOTAL_RUN	25087448000
+MAP	READ	3671785000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9297108
+MAP	VALUE_BYTE_COUNT	133184771
+MAP	MAP	17760710000
+MAP	WRITE	5464747000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	910828000
+MAP	SERIALIZE_OUTPUT	1672929000
+MAP	MAP_MEM	227653144
+SPILL	SORT_AND_SPILL	30733554000
+SPILL	QUICK_SORT	2084142000
+SPILL	SORT_COUNT	1033012
+SPILL	COMBINE	0
+SPILL	WRITE	28649412000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	148858523
+SPILL	COMPRESS_BYTE_COUNT	46265233
+MERGE	TOTAL_MERGE	10450000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	56687570000
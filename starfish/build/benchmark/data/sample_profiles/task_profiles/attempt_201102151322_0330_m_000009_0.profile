@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.10	0
+MAP	STARTUP_MEM	212659656
+MAP	SETUP	3631000
+MAP	SETUP_MEM	213948488
+MAP	CLEANUP	100000
+MAP	CLEANUP_MEM	227631856
+MAP	TOTAL_RUN	27241122000
+MAP	READ	4591324000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9298683
+MAP	VALUE_BYTE_COUNT	133184457
+MAP	MAP	18760524000
+MAP	WRITE	5800065000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1144509000
+MAP	SERIALIZE_OUTPUT	2301157000
+MAP	MAP_MEM	227631856
+SPILL	SORT_AND_SPILL	30940485000
+SPILL	QUICK_SORT	2301938000
+SPILL	SORT_COUNT	1033187
+SPILL	COMBINE	0
+SPILL	WRITE	28638547000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	148858424
+SPILL	COMPRESS_BYTE_COUNT	46264538
+MERGE	TOTAL_MERGE	1979000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	59034773000
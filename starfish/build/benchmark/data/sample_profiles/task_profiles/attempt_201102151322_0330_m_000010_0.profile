@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.11	0
+MAP	STARTUP_MEM	213529232
+MAP	SETUP	3390000
+MAP	SETUP_MEM	213529232
+MAP	CLEANUP	121000
+MAP	CLEANUP_MEM	226812584
+MAP	TOTAL_RUN	26014323000
+MAP	READ	4309658000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	8441870
+MAP	VALUE_BYTE_COUNT	133184776
+MAP	MAP	18013653000
+MAP	WRITE	5230383000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	917075000
+MAP	SERIALIZE_OUTPUT	1761248000
+MAP	MAP_MEM	226812584
+SPILL	SORT_AND_SPILL	30963200000
+SPILL	QUICK_SORT	1789704000
+SPILL	SORT_COUNT	1033004
+SPILL	COMBINE	0
+SPILL	WRITE	29173496000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	148857588
+SPILL	COMPRESS_BYTE_COUNT	46262607
+MERGE	TOTAL_MERGE	1750000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	57522516000
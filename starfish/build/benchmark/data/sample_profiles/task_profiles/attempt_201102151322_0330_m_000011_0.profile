@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.11	0
+MAP	STARTUP_MEM	212680632
+MAP	SETUP	3735000
+MAP	SETUP_MEM	213980416
+MAP	CLEANUP	90000
+MAP	CLEANUP_MEM	226533320
+MAP	TOTAL_RUN	28972431828
+MAP	READ	5278589000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9298170
+MAP	VALUE_BYTE_COUNT	133184576
+MAP	MAP	18931049828
+MAP	WRITE	6655120000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1145813000
+MAP	SERIALIZE_OUTPUT	2328539000
+MAP	MAP_MEM	226533320
+SPILL	SORT_AND_SPILL	30018289000
+SPILL	QUICK_SORT	1650863000
+SPILL	SORT_COUNT	1033130
+SPILL	COMBINE	0
+SPILL	WRITE	28367426000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	148858718
+SPILL	COMPRESS_BYTE_COUNT	46273206
+MERGE	TOTAL_MERGE	1852000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	60097983828
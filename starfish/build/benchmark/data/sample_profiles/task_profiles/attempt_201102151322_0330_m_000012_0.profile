@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.11	0
+MAP	STARTUP_MEM	213535424
+MAP	SETUP	5488000
+MAP	SETUP_MEM	214834512
+MAP	CLEANUP	101000
+MAP	CLEANUP_MEM	226326448
+MAP	TOTAL_RUN	29436921000
+MAP	READ	4385247000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9298404
+MAP	VALUE_BYTE_COUNT	133184652
+MAP	MAP	19965262000
+MAP	WRITE	6944633000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	966442000
+MAP	SERIALIZE_OUTPUT	3008459000
+MAP	MAP_MEM	226326448
+SPILL	SORT_AND_SPILL	48132058000
+SPILL	QUICK_SORT	1646059000
+SPILL	SORT_COUNT	1033156
+SPILL	COMBINE	0
+SPILL	WRITE	46485999000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	148858560
+SPILL	COMPRESS_BYTE_COUNT	46270128
+MERGE	TOTAL_MERGE	1696000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	78059774000
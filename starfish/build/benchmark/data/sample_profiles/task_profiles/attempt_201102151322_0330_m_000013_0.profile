@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.11	0
+MAP	STARTUP_MEM	213539256
+MAP	SETUP	5393000
+MAP	SETUP_MEM	214837224
+MAP	CLEANUP	99000
+MAP	CLEANUP_MEM	227654576
+MAP	TOTAL_RUN	24783313000
+MAP	READ	3695235000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9298062
+MAP	VALUE_BYTE_COUNT	133184523
+MAP	MAP	17650544000
+MAP	WRITE	5565286000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1090620000
+MAP	SERIALIZE_OUTPUT	2182287000
+MAP	MAP_MEM	228216744
+SPILL	SORT_AND_SPILL	30260675000
+SPILL	QUICK_SORT	1600493000
+SPILL	SORT_COUNT	1033118
+SPILL	COMBINE	0
+SPILL	WRITE	28660182000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	148858457
+SPILL	COMPRESS_BYTE_COUNT	46272137
+MERGE	TOTAL_MERGE	1696000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	55877700000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.11	0
+MAP	STARTUP_MEM	212690280
+MAP	SETUP	3386000
+MAP	SETUP_MEM	214008944
+MAP	CLEANUP	91000
+MAP	CLEANUP_MEM	226814272
+MAP	TOTAL_RUN	27619833000
+MAP	READ	5238853000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9298008
+MAP	VALUE_BYTE_COUNT	133184733
+MAP	MAP	18408581000
+MAP	WRITE	6551489000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1126593000
+MAP	SERIALIZE_OUTPUT	2236879000
+MAP	MAP_MEM	226814272
+SPILL	SORT_AND_SPILL	63068899000
+SPILL	QUICK_SORT	3815904000
+SPILL	SORT_COUNT	1033112
+SPILL	COMBINE	0
+SPILL	WRITE	59252995000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	148858796
+SPILL	COMPRESS_BYTE_COUNT	46259417
+MERGE	TOTAL_MERGE	1632000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	92128504000
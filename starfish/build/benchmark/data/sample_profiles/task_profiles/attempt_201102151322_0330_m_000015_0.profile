@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.12	0
+MAP	STARTUP_MEM	212688336
+MAP	SETUP	3820000
+MAP	SETUP_MEM	213543976
+MAP	CLEANUP	104000
+MAP	CLEANUP_MEM	226796544
+MAP	TOTAL_RUN	27835381000
+MAP	READ	4150089000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	8443943
+MAP	VALUE_BYTE_COUNT	133184536
+MAP	MAP	19266945000
+MAP	WRITE	6351080000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1106978000
+MAP	SERIALIZE_OUTPUT	2162762000
+MAP	MAP_MEM	226796544
+SPILL	SORT_AND_SPILL	31569169000
+SPILL	QUICK_SORT	1623876000
+SPILL	SORT_COUNT	1033263
+SPILL	COMBINE	0
+SPILL	WRITE	29945293000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	148859643
+SPILL	COMPRESS_BYTE_COUNT	46269333
+MERGE	TOTAL_MERGE	1697000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	59897743000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.12	0
+MAP	STARTUP_MEM	213537792
+MAP	SETUP	3961000
+MAP	SETUP_MEM	214830288
+MAP	CLEANUP	96000
+MAP	CLEANUP_MEM	226353336
+MAP	TOTAL_RUN	28799669736
+MAP	READ	4752703000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9297720
+MAP	VALUE_BYTE_COUNT	133184665
+MAP	MAP	19657202000
+MAP	WRITE	6783266000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1157643000
+MAP	SERIALIZE_OUTPUT	2384150000
+MAP	MAP_MEM	226915496
+SPILL	SORT_AND_SPILL	30922374000
+SPILL	QUICK_SORT	1771427000
+SPILL	SORT_COUNT	1033080
+SPILL	COMBINE	0
+SPILL	WRITE	29150947000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	148858222
+SPILL	COMPRESS_BYTE_COUNT	46266200
+MERGE	TOTAL_MERGE	1834000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	60438025736
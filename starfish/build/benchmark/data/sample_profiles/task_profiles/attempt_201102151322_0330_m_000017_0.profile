@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.12	0
+MAP	STARTUP_MEM	212668168
+MAP	SETUP	3621000
+MAP	SETUP_MEM	213956832
+MAP	CLEANUP	114000
+MAP	CLEANUP_MEM	226212968
+MAP	TOTAL_RUN	28608634000
+MAP	READ	4462548000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9296766
+MAP	VALUE_BYTE_COUNT	133184700
+MAP	MAP	20101251000
+MAP	WRITE	5716477000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	925879000
+MAP	SERIALIZE_OUTPUT	2151853000
+MAP	MAP_MEM	226775128
+SPILL	SORT_AND_SPILL	31525934000
+SPILL	QUICK_SORT	2070002000
+SPILL	SORT_COUNT	1032974
+SPILL	COMBINE	0
+SPILL	WRITE	29455932000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	148858540
+SPILL	COMPRESS_BYTE_COUNT	46261349
+MERGE	TOTAL_MERGE	1725000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	60724971000
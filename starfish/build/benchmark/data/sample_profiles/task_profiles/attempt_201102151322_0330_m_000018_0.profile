@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.12	0
+MAP	STARTUP_MEM	212657488
+MAP	SETUP	3519000
+MAP	SETUP_MEM	213939240
+MAP	CLEANUP	93000
+MAP	CLEANUP_MEM	227659200
+MAP	TOTAL_RUN	24484687000
+MAP	READ	3637014000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9298269
+MAP	VALUE_BYTE_COUNT	133184660
+MAP	MAP	17533617000
+MAP	WRITE	5555449000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	979934000
+MAP	SERIALIZE_OUTPUT	2224285000
+MAP	MAP_MEM	227659200
+SPILL	SORT_AND_SPILL	30236286000
+SPILL	QUICK_SORT	1591888000
+SPILL	SORT_COUNT	1033141
+SPILL	COMBINE	0
+SPILL	WRITE	28644398000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	148859100
+SPILL	COMPRESS_BYTE_COUNT	46273940
+MERGE	TOTAL_MERGE	1942000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	55595841000
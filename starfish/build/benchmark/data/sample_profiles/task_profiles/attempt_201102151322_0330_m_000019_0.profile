@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.12	0
+MAP	STARTUP_MEM	212690232
+MAP	SETUP	3510000
+MAP	SETUP_MEM	214009448
+MAP	CLEANUP	96000
+MAP	CLEANUP_MEM	226261544
+MAP	TOTAL_RUN	24778215000
+MAP	READ	3824581000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9297846
+MAP	VALUE_BYTE_COUNT	133184533
+MAP	MAP	17583628000
+MAP	WRITE	5668157000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1206905000
+MAP	SERIALIZE_OUTPUT	2145129000
+MAP	MAP_MEM	226823704
+SPILL	SORT_AND_SPILL	29869484000
+SPILL	QUICK_SORT	1600125000
+SPILL	SORT_COUNT	1033094
+SPILL	COMBINE	0
+SPILL	WRITE	28269359000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	148858742
+SPILL	COMPRESS_BYTE_COUNT	46271504
+MERGE	TOTAL_MERGE	1570000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	55871470000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.13	0
+MAP	STARTUP_MEM	213549344
+MAP	SETUP	3519000
+MAP	SETUP_MEM	213549344
+MAP	CLEANUP	100000
+MAP	CLEANUP_MEM	226502040
+MAP	TOTAL_RUN	39831534000
+MAP	READ	8143721000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	8442588
+MAP	VALUE_BYTE_COUNT	133184748
+MAP	MAP	27268141000
+MAP	WRITE	10319360000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1193226000
+MAP	SERIALIZE_OUTPUT	5543222000
+MAP	MAP_MEM	227064200
+SPILL	SORT_AND_SPILL	57550470000
+SPILL	QUICK_SORT	1791787000
+SPILL	SORT_COUNT	1033091
+SPILL	COMBINE	0
+SPILL	WRITE	55758683000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	148858446
+SPILL	COMPRESS_BYTE_COUNT	46267336
+MERGE	TOTAL_MERGE	1701000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	97790658000
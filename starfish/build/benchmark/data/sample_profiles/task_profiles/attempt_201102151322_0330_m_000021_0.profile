@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.13	0
+MAP	STARTUP_MEM	212670536
+MAP	SETUP	5345000
+MAP	SETUP_MEM	213960224
+MAP	CLEANUP	96000
+MAP	CLEANUP_MEM	226799848
+MAP	TOTAL_RUN	27969633828
+MAP	READ	5140028828
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9298368
+MAP	VALUE_BYTE_COUNT	133184556
+MAP	MAP	18339393000
+MAP	WRITE	6361976000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1145082000
+MAP	SERIALIZE_OUTPUT	2270907000
+MAP	MAP_MEM	226799848
+SPILL	SORT_AND_SPILL	31483281000
+SPILL	QUICK_SORT	2164392000
+SPILL	SORT_COUNT	1033152
+SPILL	COMBINE	0
+SPILL	WRITE	29318889000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	148858556
+SPILL	COMPRESS_BYTE_COUNT	46269141
+MERGE	TOTAL_MERGE	1781000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	60347239828
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.13	0
+MAP	STARTUP_MEM	212690368
+MAP	SETUP	3312000
+MAP	SETUP_MEM	213991288
+MAP	CLEANUP	116000
+MAP	CLEANUP_MEM	228252632
+MAP	TOTAL_RUN	26133495000
+MAP	READ	4478615000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9297459
+MAP	VALUE_BYTE_COUNT	133184596
+MAP	MAP	17811844000
+MAP	WRITE	6307541000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	958495000
+MAP	SERIALIZE_OUTPUT	2813303000
+MAP	MAP_MEM	228252632
+SPILL	SORT_AND_SPILL	40369017000
+SPILL	QUICK_SORT	1790473000
+SPILL	SORT_COUNT	1033051
+SPILL	COMBINE	0
+SPILL	WRITE	38578544000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	148857925
+SPILL	COMPRESS_BYTE_COUNT	46265436
+MERGE	TOTAL_MERGE	1686000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	66991504000
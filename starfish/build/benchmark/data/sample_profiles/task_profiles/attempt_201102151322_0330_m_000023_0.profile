@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.13	0
+MAP	STARTUP_MEM	213549336
+MAP	SETUP	3812000
+MAP	SETUP_MEM	214872280
+MAP	CLEANUP	114000
+MAP	CLEANUP_MEM	226666648
+MAP	TOTAL_RUN	29499752000
+MAP	READ	6645798000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9297621
+MAP	VALUE_BYTE_COUNT	133184652
+MAP	MAP	19274997000
+MAP	WRITE	5583049000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1008168000
+MAP	SERIALIZE_OUTPUT	2221172000
+MAP	MAP_MEM	227228808
+SPILL	SORT_AND_SPILL	46192701000
+SPILL	QUICK_SORT	2794147000
+SPILL	SORT_COUNT	1033069
+SPILL	COMBINE	0
+SPILL	WRITE	43398554000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	148858404
+SPILL	COMPRESS_BYTE_COUNT	46263310
+MERGE	TOTAL_MERGE	1711000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	76227723000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.13	0
+MAP	STARTUP_MEM	212688224
+MAP	SETUP	5794000
+MAP	SETUP_MEM	214861080
+MAP	CLEANUP	90000
+MAP	CLEANUP_MEM	226796696
+MAP	TOTAL_RUN	24456789000
+MAP	READ	3894115000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9297531
+MAP	VALUE_BYTE_COUNT	133184755
+MAP	MAP	17087202000
+MAP	WRITE	5385273000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	993421000
+MAP	SERIALIZE_OUTPUT	2095344000
+MAP	MAP_MEM	226796696
+SPILL	SORT_AND_SPILL	30125087000
+SPILL	QUICK_SORT	1628776000
+SPILL	SORT_COUNT	1033059
+SPILL	COMBINE	0
+SPILL	WRITE	28496311000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	148857815
+SPILL	COMPRESS_BYTE_COUNT	46269327
+MERGE	TOTAL_MERGE	1794000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	55369601000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.14	0
+MAP	STARTUP_MEM	212673488
+MAP	SETUP	4048000
+MAP	SETUP_MEM	213529128
+MAP	CLEANUP	106000
+MAP	CLEANUP_MEM	226673720
+MAP	TOTAL_RUN	29554913736
+MAP	READ	5221102000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	8441502
+MAP	VALUE_BYTE_COUNT	133184865
+MAP	MAP	19466218000
+MAP	WRITE	6749067000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1278252000
+MAP	SERIALIZE_OUTPUT	2421218000
+MAP	MAP_MEM	226673720
+SPILL	SORT_AND_SPILL	30683664000
+SPILL	QUICK_SORT	1614714000
+SPILL	SORT_COUNT	1032965
+SPILL	COMBINE	0
+SPILL	WRITE	29068950000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	148857695
+SPILL	COMPRESS_BYTE_COUNT	46260630
+MERGE	TOTAL_MERGE	1710000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	60693005736
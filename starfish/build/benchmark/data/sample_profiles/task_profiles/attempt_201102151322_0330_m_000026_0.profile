@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.14	0
+MAP	STARTUP_MEM	212663824
+MAP	SETUP	6959000
+MAP	SETUP_MEM	213946848
+MAP	CLEANUP	87000
+MAP	CLEANUP_MEM	227688512
+MAP	TOTAL_RUN	23630019000
+MAP	READ	3605172000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9297000
+MAP	VALUE_BYTE_COUNT	133184675
+MAP	MAP	16516984000
+MAP	WRITE	5036255000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1017940000
+MAP	SERIALIZE_OUTPUT	1789364000
+MAP	MAP_MEM	228250672
+SPILL	SORT_AND_SPILL	29577666000
+SPILL	QUICK_SORT	1512415000
+SPILL	SORT_COUNT	1033000
+SPILL	COMBINE	0
+SPILL	WRITE	28065251000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	148857976
+SPILL	COMPRESS_BYTE_COUNT	46261145
+MERGE	TOTAL_MERGE	10728000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	53906686000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.14	0
+MAP	STARTUP_MEM	212680392
+MAP	SETUP	5542000
+MAP	SETUP_MEM	213979960
+MAP	CLEANUP	91000
+MAP	CLEANUP_MEM	227584032
+MAP	TOTAL_RUN	27597149000
+MAP	READ	4206463000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9298179
+MAP	VALUE_BYTE_COUNT	133184599
+MAP	MAP	18957671000
+MAP	WRITE	6349790000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1243082000
+MAP	SERIALIZE_OUTPUT	2142742000
+MAP	MAP_MEM	228146192
+SPILL	SORT_AND_SPILL	32137393183
+SPILL	QUICK_SORT	1657130000
+SPILL	SORT_COUNT	1033131
+SPILL	COMBINE	0
+SPILL	WRITE	30480263183
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	148859424
+SPILL	COMPRESS_BYTE_COUNT	46268718
+MERGE	TOTAL_MERGE	1650000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	62314009183
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.14	0
+MAP	STARTUP_MEM	212705584
+MAP	SETUP	15867000
+MAP	SETUP_MEM	214031472
+MAP	CLEANUP	89000
+MAP	CLEANUP_MEM	227709976
+MAP	TOTAL_RUN	45267116000
+MAP	READ	8962296000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9297522
+MAP	VALUE_BYTE_COUNT	133184644
+MAP	MAP	30648551000
+MAP	WRITE	12404064000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1321220000
+MAP	SERIALIZE_OUTPUT	3983570000
+MAP	MAP_MEM	227709976
+SPILL	SORT_AND_SPILL	45940633000
+SPILL	QUICK_SORT	2356716000
+SPILL	SORT_COUNT	1033058
+SPILL	COMBINE	0
+SPILL	WRITE	43583917000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	148858445
+SPILL	COMPRESS_BYTE_COUNT	46264789
+MERGE	TOTAL_MERGE	1683000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	91756939000
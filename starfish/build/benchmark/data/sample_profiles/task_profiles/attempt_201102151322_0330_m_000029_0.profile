@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.14	0
+MAP	STARTUP_MEM	212664896
+MAP	SETUP	3471000
+MAP	SETUP_MEM	213946248
+MAP	CLEANUP	92000
+MAP	CLEANUP_MEM	226805408
+MAP	TOTAL_RUN	26748074000
+MAP	READ	5577273000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9297729
+MAP	VALUE_BYTE_COUNT	133184695
+MAP	MAP	17474369000
+MAP	WRITE	5458311000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1002740000
+MAP	SERIALIZE_OUTPUT	2134648000
+MAP	MAP_MEM	226805408
+SPILL	SORT_AND_SPILL	29747489000
+SPILL	QUICK_SORT	1643858000
+SPILL	SORT_COUNT	1033081
+SPILL	COMBINE	0
+SPILL	WRITE	28103631000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	148859067
+SPILL	COMPRESS_BYTE_COUNT	46267860
+MERGE	TOTAL_MERGE	1768000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	58102763000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.15	0
+MAP	STARTUP_MEM	213535144
+MAP	SETUP	3525000
+MAP	SETUP_MEM	213535144
+MAP	CLEANUP	88000
+MAP	CLEANUP_MEM	226798544
+MAP	TOTAL_RUN	24791983000
+MAP	READ	4208507000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	8441525
+MAP	VALUE_BYTE_COUNT	133184880
+MAP	MAP	17179416000
+MAP	WRITE	5640535000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1187277000
+MAP	SERIALIZE_OUTPUT	2050244000
+MAP	MAP_MEM	226798544
+SPILL	SORT_AND_SPILL	29521325000
+SPILL	QUICK_SORT	1627127000
+SPILL	SORT_COUNT	1032960
+SPILL	COMBINE	0
+SPILL	WRITE	27894198000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	148857676
+SPILL	COMPRESS_BYTE_COUNT	46259749
+MERGE	TOTAL_MERGE	1613000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	54731936000
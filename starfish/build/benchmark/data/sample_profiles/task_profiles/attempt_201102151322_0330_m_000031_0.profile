@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.15	0
+MAP	STARTUP_MEM	213518912
+MAP	SETUP	5183000
+MAP	SETUP_MEM	214801360
+MAP	CLEANUP	91000
+MAP	CLEANUP_MEM	226819952
+MAP	TOTAL_RUN	24297729000
+MAP	READ	4139437000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9298107
+MAP	VALUE_BYTE_COUNT	133184581
+MAP	MAP	16753348000
+MAP	WRITE	5402144000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1079398000
+MAP	SERIALIZE_OUTPUT	2119089000
+MAP	MAP_MEM	226819952
+SPILL	SORT_AND_SPILL	29638505000
+SPILL	QUICK_SORT	1609781000
+SPILL	SORT_COUNT	1033123
+SPILL	COMBINE	0
+SPILL	WRITE	28028724000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	148858139
+SPILL	COMPRESS_BYTE_COUNT	46268411
+MERGE	TOTAL_MERGE	1812000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	54533157000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.15	0
+MAP	STARTUP_MEM	213536232
+MAP	SETUP	3324000
+MAP	SETUP_MEM	214846048
+MAP	CLEANUP	99000
+MAP	CLEANUP_MEM	227750024
+MAP	TOTAL_RUN	34424223000
+MAP	READ	7453874000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9296910
+MAP	VALUE_BYTE_COUNT	133184747
+MAP	MAP	19588406000
+MAP	WRITE	7051853000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	981633000
+MAP	SERIALIZE_OUTPUT	3312406000
+MAP	MAP_MEM	227750024
+SPILL	SORT_AND_SPILL	55428033000
+SPILL	QUICK_SORT	5087926000
+SPILL	SORT_COUNT	1032990
+SPILL	COMBINE	0
+SPILL	WRITE	50340107000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	148857665
+SPILL	COMPRESS_BYTE_COUNT	46261794
+MERGE	TOTAL_MERGE	2099000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	90590289000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.15	0
+MAP	STARTUP_MEM	212696848
+MAP	SETUP	5395000
+MAP	SETUP_MEM	214020112
+MAP	CLEANUP	100000
+MAP	CLEANUP_MEM	226360808
+MAP	TOTAL_RUN	25516039000
+MAP	READ	4693172000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9296955
+MAP	VALUE_BYTE_COUNT	133184716
+MAP	MAP	17154967000
+MAP	WRITE	5647999000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1107987000
+MAP	SERIALIZE_OUTPUT	2153016000
+MAP	MAP_MEM	226922968
+SPILL	SORT_AND_SPILL	29778685000
+SPILL	QUICK_SORT	1531672000
+SPILL	SORT_COUNT	1032995
+SPILL	COMBINE	0
+SPILL	WRITE	28247013000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	148858024
+SPILL	COMPRESS_BYTE_COUNT	46263780
+MERGE	TOTAL_MERGE	1854000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	56016829000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.15	0
+MAP	STARTUP_MEM	213546928
+MAP	SETUP	5804000
+MAP	SETUP_MEM	214867440
+MAP	CLEANUP	88000
+MAP	CLEANUP_MEM	227696792
+MAP	TOTAL_RUN	46049451000
+MAP	READ	12699841000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9297486
+MAP	VALUE_BYTE_COUNT	133184623
+MAP	MAP	28857528000
+MAP	WRITE	8760251000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	2529328000
+MAP	SERIALIZE_OUTPUT	2617871000
+MAP	MAP_MEM	228258952
+SPILL	SORT_AND_SPILL	45414482000
+SPILL	QUICK_SORT	1610051000
+SPILL	SORT_COUNT	1033054
+SPILL	COMBINE	0
+SPILL	WRITE	43804431000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	148858490
+SPILL	COMPRESS_BYTE_COUNT	46265693
+MERGE	TOTAL_MERGE	1648000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	91944421000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.16	0
+MAP	STARTUP_MEM	213528912
+MAP	SETUP	3587000
+MAP	SETUP_MEM	213528912
+MAP	CLEANUP	94000
+MAP	CLEANUP_MEM	226839336
+MAP	TOTAL_RUN	48407593889
+MAP	READ	11437444000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	8441048
+MAP	VALUE_BYTE_COUNT	133184873
+MAP	MAP	29005693889
+MAP	WRITE	10760564000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	2007148000
+MAP	SERIALIZE_OUTPUT	3992865000
+MAP	MAP_MEM	226839336
+SPILL	SORT_AND_SPILL	52281530584
+SPILL	QUICK_SORT	1808935000
+SPILL	SORT_COUNT	1032909
+SPILL	COMBINE	0
+SPILL	WRITE	50472595584
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	148858018
+SPILL	COMPRESS_BYTE_COUNT	46262520
+MERGE	TOTAL_MERGE	9571000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	101339981473
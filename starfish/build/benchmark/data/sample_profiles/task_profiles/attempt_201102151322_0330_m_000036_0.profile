@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.16	0
+MAP	STARTUP_MEM	213524960
+MAP	SETUP	3959000
+MAP	SETUP_MEM	214813584
+MAP	CLEANUP	97000
+MAP	CLEANUP_MEM	227642680
+MAP	TOTAL_RUN	31859454000
+MAP	READ	6219233000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9297252
+MAP	VALUE_BYTE_COUNT	133184681
+MAP	MAP	20630625000
+MAP	WRITE	6561645000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1141570000
+MAP	SERIALIZE_OUTPUT	2442931000
+MAP	MAP_MEM	228204840
+SPILL	SORT_AND_SPILL	52651496000
+SPILL	QUICK_SORT	3964356000
+SPILL	SORT_COUNT	1033028
+SPILL	COMBINE	0
+SPILL	WRITE	48687140000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	148857823
+SPILL	COMPRESS_BYTE_COUNT	46259521
+MERGE	TOTAL_MERGE	1604000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	85052651000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.16	0
+MAP	STARTUP_MEM	213531200
+MAP	SETUP	5235000
+MAP	SETUP_MEM	214826056
+MAP	CLEANUP	91000
+MAP	CLEANUP_MEM	227742088
+MAP	TOTAL_RUN	41015266000
+MAP	READ	7081565000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9296955
+MAP	VALUE_BYTE_COUNT	133184790
+MAP	MAP	27338458000
+MAP	WRITE	8541215000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1202508000
+MAP	SERIALIZE_OUTPUT	4787917000
+MAP	MAP_MEM	228304248
+SPILL	SORT_AND_SPILL	47947281000
+SPILL	QUICK_SORT	5287157000
+SPILL	SORT_COUNT	1032995
+SPILL	COMBINE	0
+SPILL	WRITE	42660124000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	148857260
+SPILL	COMPRESS_BYTE_COUNT	46266771
+MERGE	TOTAL_MERGE	1608000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	89572422000
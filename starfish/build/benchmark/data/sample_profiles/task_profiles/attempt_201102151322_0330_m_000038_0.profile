@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.16	0
+MAP	STARTUP_MEM	213523584
+MAP	SETUP	6026000
+MAP	SETUP_MEM	214810816
+MAP	CLEANUP	93000
+MAP	CLEANUP_MEM	227812376
+MAP	TOTAL_RUN	50960505000
+MAP	READ	9655749000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9298287
+MAP	VALUE_BYTE_COUNT	133184531
+MAP	MAP	35304629000
+MAP	WRITE	18004428000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	3937883000
+MAP	SERIALIZE_OUTPUT	3260045000
+MAP	MAP_MEM	227812376
+SPILL	SORT_AND_SPILL	43516833000
+SPILL	QUICK_SORT	2445692000
+SPILL	SORT_COUNT	1033143
+SPILL	COMBINE	0
+SPILL	WRITE	41071141000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	148858054
+SPILL	COMPRESS_BYTE_COUNT	46268731
+MERGE	TOTAL_MERGE	1707000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	95003154000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.16	0
+MAP	STARTUP_MEM	212674448
+MAP	SETUP	4037000
+MAP	SETUP_MEM	214823720
+MAP	CLEANUP	119000
+MAP	CLEANUP_MEM	227688192
+MAP	TOTAL_RUN	27737985000
+MAP	READ	4334726000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9297765
+MAP	VALUE_BYTE_COUNT	133184645
+MAP	MAP	19122309000
+MAP	WRITE	6712907000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1175747000
+MAP	SERIALIZE_OUTPUT	2131992000
+MAP	MAP_MEM	228250352
+SPILL	SORT_AND_SPILL	31201824000
+SPILL	QUICK_SORT	1695331000
+SPILL	SORT_COUNT	1033085
+SPILL	COMBINE	0
+SPILL	WRITE	29506493000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	148858692
+SPILL	COMPRESS_BYTE_COUNT	46266602
+MERGE	TOTAL_MERGE	2898000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	59784754000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.17	0
+MAP	STARTUP_MEM	212645336
+MAP	SETUP	3438000
+MAP	SETUP_MEM	212645336
+MAP	CLEANUP	127000
+MAP	CLEANUP_MEM	226265768
+MAP	TOTAL_RUN	39352717889
+MAP	READ	7667092000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	8442780
+MAP	VALUE_BYTE_COUNT	133184614
+MAP	MAP	25140103889
+MAP	WRITE	8891648889
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1466316889
+MAP	SERIALIZE_OUTPUT	2602426000
+MAP	MAP_MEM	226827928
+SPILL	SORT_AND_SPILL	55341830584
+SPILL	QUICK_SORT	1908677000
+SPILL	SORT_COUNT	1033116
+SPILL	COMBINE	0
+SPILL	WRITE	53433153584
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	148858405
+SPILL	COMPRESS_BYTE_COUNT	46271196
+MERGE	TOTAL_MERGE	1744000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	95146808473
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.17	0
+MAP	STARTUP_MEM	213532392
+MAP	SETUP	5965000
+MAP	SETUP_MEM	214828440
+MAP	CLEANUP	110000
+MAP	CLEANUP_MEM	227745200
+MAP	TOTAL_RUN	38038662000
+MAP	READ	6433731000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9298314
+MAP	VALUE_BYTE_COUNT	133184720
+MAP	MAP	26196140000
+MAP	WRITE	8554313000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	2218663000
+MAP	SERIALIZE_OUTPUT	2490584000
+MAP	MAP_MEM	227745200
+SPILL	SORT_AND_SPILL	32558210000
+SPILL	QUICK_SORT	2074602000
+SPILL	SORT_COUNT	1033146
+SPILL	COMBINE	0
+SPILL	WRITE	30483608000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	148858952
+SPILL	COMPRESS_BYTE_COUNT	46273127
+MERGE	TOTAL_MERGE	1796000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	71227482000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.17	0
+MAP	STARTUP_MEM	212699752
+MAP	SETUP	4025000
+MAP	SETUP_MEM	214875600
+MAP	CLEANUP	105000
+MAP	CLEANUP_MEM	226665512
+MAP	TOTAL_RUN	30513074572
+MAP	READ	6235193000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9298962
+MAP	VALUE_BYTE_COUNT	133184470
+MAP	MAP	19787612000
+MAP	WRITE	6908450000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1178643000
+MAP	SERIALIZE_OUTPUT	2320574000
+MAP	MAP_MEM	227227672
+SPILL	SORT_AND_SPILL	30832016000
+SPILL	QUICK_SORT	1639789000
+SPILL	SORT_COUNT	1033218
+SPILL	COMBINE	0
+SPILL	WRITE	29192227000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	148858411
+SPILL	COMPRESS_BYTE_COUNT	46267490
+MERGE	TOTAL_MERGE	1609000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	62364327572
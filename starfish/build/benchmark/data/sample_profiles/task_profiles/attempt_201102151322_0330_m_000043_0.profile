@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.17	0
+MAP	STARTUP_MEM	212665024
+MAP	SETUP	7789000
+MAP	SETUP_MEM	214804904
+MAP	CLEANUP	103000
+MAP	CLEANUP_MEM	226281816
+MAP	TOTAL_RUN	47784217372
+MAP	READ	8279399000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9288396
+MAP	VALUE_BYTE_COUNT	133185589
+MAP	MAP	30988491372
+MAP	WRITE	12605092372
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	2461115000
+MAP	SERIALIZE_OUTPUT	3412779372
+MAP	MAP_MEM	226281816
+SPILL	SORT_AND_SPILL	62513149371
+SPILL	QUICK_SORT	3988276000
+SPILL	SORT_COUNT	1032044
+SPILL	COMBINE	0
+SPILL	WRITE	58524873371
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	148982768
+SPILL	COMPRESS_BYTE_COUNT	46228917
+MERGE	TOTAL_MERGE	1892000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	111406638743
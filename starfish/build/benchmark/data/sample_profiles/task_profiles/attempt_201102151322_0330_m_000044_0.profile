@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.17	0
+MAP	STARTUP_MEM	213519544
+MAP	SETUP	3682000
+MAP	SETUP_MEM	214802752
+MAP	CLEANUP	95000
+MAP	CLEANUP_MEM	219711824
+MAP	TOTAL_RUN	46181843000
+MAP	READ	6047746000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9226476
+MAP	VALUE_BYTE_COUNT	133192621
+MAP	MAP	30513331000
+MAP	WRITE	10738341000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	2005030000
+MAP	SERIALIZE_OUTPUT	3038452000
+MAP	MAP_MEM	219711824
+SPILL	SORT_AND_SPILL	51281870000
+SPILL	QUICK_SORT	3413851000
+SPILL	SORT_COUNT	1025164
+SPILL	COMBINE	0
+SPILL	WRITE	47868019000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	149832401
+SPILL	COMPRESS_BYTE_COUNT	45995294
+MERGE	TOTAL_MERGE	1649000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	98015161000
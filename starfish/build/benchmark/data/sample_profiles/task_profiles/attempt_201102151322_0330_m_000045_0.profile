@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.18	0
+MAP	STARTUP_MEM	213540216
+MAP	SETUP	3561000
+MAP	SETUP_MEM	213540216
+MAP	CLEANUP	92000
+MAP	CLEANUP_MEM	219144656
+MAP	TOTAL_RUN	33391607000
+MAP	READ	6201017000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	8378997
+MAP	VALUE_BYTE_COUNT	133192443
+MAP	MAP	21659310000
+MAP	WRITE	7245586000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	2009865000
+MAP	SERIALIZE_OUTPUT	2113216000
+MAP	MAP_MEM	219706816
+SPILL	SORT_AND_SPILL	60910783000
+SPILL	QUICK_SORT	1787094000
+SPILL	SORT_COUNT	1025311
+SPILL	COMBINE	0
+SPILL	WRITE	59123689000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	149832404
+SPILL	COMPRESS_BYTE_COUNT	45999850
+MERGE	TOTAL_MERGE	15901000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	96707144000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.18	0
+MAP	STARTUP_MEM	213511872
+MAP	SETUP	9313000
+MAP	SETUP_MEM	214797328
+MAP	CLEANUP	225000
+MAP	CLEANUP_MEM	219718184
+MAP	TOTAL_RUN	27595675000
+MAP	READ	3860086000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9227979
+MAP	VALUE_BYTE_COUNT	133192374
+MAP	MAP	19496185000
+MAP	WRITE	6453672000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1097989000
+MAP	SERIALIZE_OUTPUT	2519724000
+MAP	MAP_MEM	219718184
+SPILL	SORT_AND_SPILL	49547669000
+SPILL	QUICK_SORT	2179234000
+SPILL	SORT_COUNT	1025331
+SPILL	COMBINE	0
+SPILL	WRITE	47368435000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	149833421
+SPILL	COMPRESS_BYTE_COUNT	45994182
+MERGE	TOTAL_MERGE	1688000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	77790488000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.18	0
+MAP	STARTUP_MEM	213525632
+MAP	SETUP	3529000
+MAP	SETUP_MEM	214814912
+MAP	CLEANUP	89000
+MAP	CLEANUP_MEM	219131064
+MAP	TOTAL_RUN	41016814000
+MAP	READ	5364516000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9226800
+MAP	VALUE_BYTE_COUNT	133192633
+MAP	MAP	30029271000
+MAP	WRITE	10321071000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	2232970000
+MAP	SERIALIZE_OUTPUT	3337728000
+MAP	MAP_MEM	219693224
+SPILL	SORT_AND_SPILL	48314671000
+SPILL	QUICK_SORT	1633560000
+SPILL	SORT_COUNT	1025200
+SPILL	COMBINE	0
+SPILL	WRITE	46681111000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	149831749
+SPILL	COMPRESS_BYTE_COUNT	45994187
+MERGE	TOTAL_MERGE	1607000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	90286220000
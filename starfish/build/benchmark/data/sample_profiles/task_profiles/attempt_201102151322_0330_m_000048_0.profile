@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.18	0
+MAP	STARTUP_MEM	213547168
+MAP	SETUP	13566000
+MAP	SETUP_MEM	214863224
+MAP	CLEANUP	85000
+MAP	CLEANUP_MEM	219141328
+MAP	TOTAL_RUN	45457020000
+MAP	READ	8906464000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9226872
+MAP	VALUE_BYTE_COUNT	133192501
+MAP	MAP	31097384000
+MAP	WRITE	14422240000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	2208479000
+MAP	SERIALIZE_OUTPUT	3620265000
+MAP	MAP_MEM	219703488
+SPILL	SORT_AND_SPILL	44979781000
+SPILL	QUICK_SORT	2716554000
+SPILL	SORT_COUNT	1025208
+SPILL	COMBINE	0
+SPILL	WRITE	42263227000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	149832365
+SPILL	COMPRESS_BYTE_COUNT	45991014
+MERGE	TOTAL_MERGE	1706000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	91083505000
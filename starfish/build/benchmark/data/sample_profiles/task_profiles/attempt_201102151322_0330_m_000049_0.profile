@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.18	0
+MAP	STARTUP_MEM	213525656
+MAP	SETUP	7538000
+MAP	SETUP_MEM	214814880
+MAP	CLEANUP	100000
+MAP	CLEANUP_MEM	219131904
+MAP	TOTAL_RUN	38279900372
+MAP	READ	6206013000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9227232
+MAP	VALUE_BYTE_COUNT	133192477
+MAP	MAP	21307224372
+MAP	WRITE	7406115000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1300821000
+MAP	SERIALIZE_OUTPUT	2335274000
+MAP	MAP_MEM	219131904
+SPILL	SORT_AND_SPILL	49043890371
+SPILL	QUICK_SORT	1641261000
+SPILL	SORT_COUNT	1025248
+SPILL	COMBINE	0
+SPILL	WRITE	47402629371
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	149832513
+SPILL	COMPRESS_BYTE_COUNT	45992222
+MERGE	TOTAL_MERGE	1610000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	87861124743
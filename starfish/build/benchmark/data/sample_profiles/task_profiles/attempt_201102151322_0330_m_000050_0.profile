@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.19	0
+MAP	STARTUP_MEM	213540960
+MAP	SETUP	3444000
+MAP	SETUP_MEM	213540960
+MAP	CLEANUP	106000
+MAP	CLEANUP_MEM	218107480
+MAP	TOTAL_RUN	29543956572
+MAP	READ	5378074000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	8376964
+MAP	VALUE_BYTE_COUNT	133192678
+MAP	MAP	19210097572
+MAP	WRITE	6502864572
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1185638572
+MAP	SERIALIZE_OUTPUT	2308074000
+MAP	MAP_MEM	218107480
+SPILL	SORT_AND_SPILL	30180098000
+SPILL	QUICK_SORT	1595406000
+SPILL	SORT_COUNT	1025066
+SPILL	COMBINE	0
+SPILL	WRITE	28584692000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	149830775
+SPILL	COMPRESS_BYTE_COUNT	45989055
+MERGE	TOTAL_MERGE	2167000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	60177390572
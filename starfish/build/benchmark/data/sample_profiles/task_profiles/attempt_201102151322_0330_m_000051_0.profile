@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.19	0
+MAP	STARTUP_MEM	212680584
+MAP	SETUP	5543000
+MAP	SETUP_MEM	213980488
+MAP	CLEANUP	85000
+MAP	CLEANUP_MEM	219535104
+MAP	TOTAL_RUN	29963404000
+MAP	READ	6716973000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9227340
+MAP	VALUE_BYTE_COUNT	133192473
+MAP	MAP	19117376000
+MAP	WRITE	6005405000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1113936000
+MAP	SERIALIZE_OUTPUT	2366335000
+MAP	MAP_MEM	219535104
+SPILL	SORT_AND_SPILL	57696907000
+SPILL	QUICK_SORT	1659599000
+SPILL	SORT_COUNT	1025260
+SPILL	COMBINE	0
+SPILL	WRITE	56037308000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	149832251
+SPILL	COMPRESS_BYTE_COUNT	45998454
+MERGE	TOTAL_MERGE	1670000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	88139343000
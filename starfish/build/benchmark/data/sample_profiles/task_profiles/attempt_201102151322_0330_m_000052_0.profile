@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.19	0
+MAP	STARTUP_MEM	212680600
+MAP	SETUP	3434000
+MAP	SETUP_MEM	214836144
+MAP	CLEANUP	94000
+MAP	CLEANUP_MEM	219156080
+MAP	TOTAL_RUN	34123004000
+MAP	READ	4810489000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9225603
+MAP	VALUE_BYTE_COUNT	133192680
+MAP	MAP	24040809000
+MAP	WRITE	10792075000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	2725888000
+MAP	SERIALIZE_OUTPUT	4008341000
+MAP	MAP_MEM	219156080
+SPILL	SORT_AND_SPILL	39684863000
+SPILL	QUICK_SORT	2089150000
+SPILL	SORT_COUNT	1025067
+SPILL	COMBINE	0
+SPILL	WRITE	37595713000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	149830975
+SPILL	COMPRESS_BYTE_COUNT	45984103
+MERGE	TOTAL_MERGE	1779000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	74308257000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.19	0
+MAP	STARTUP_MEM	213542712
+MAP	SETUP	5851000
+MAP	SETUP_MEM	214832952
+MAP	CLEANUP	104000
+MAP	CLEANUP_MEM	219699488
+MAP	TOTAL_RUN	32310921000
+MAP	READ	5097347000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9225702
+MAP	VALUE_BYTE_COUNT	133192717
+MAP	MAP	22892295000
+MAP	WRITE	8109116000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1282872000
+MAP	SERIALIZE_OUTPUT	2784713000
+MAP	MAP_MEM	219699488
+SPILL	SORT_AND_SPILL	38339599000
+SPILL	QUICK_SORT	1674438000
+SPILL	SORT_COUNT	1025078
+SPILL	COMBINE	0
+SPILL	WRITE	36665161000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	149830541
+SPILL	COMPRESS_BYTE_COUNT	45991151
+MERGE	TOTAL_MERGE	6328000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	71152365000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.19	0
+MAP	STARTUP_MEM	212692280
+MAP	SETUP	5586000
+MAP	SETUP_MEM	214009104
+MAP	CLEANUP	89000
+MAP	CLEANUP_MEM	219133728
+MAP	TOTAL_RUN	46963914000
+MAP	READ	6629650000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9227448
+MAP	VALUE_BYTE_COUNT	133192468
+MAP	MAP	31251112000
+MAP	WRITE	11520699000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1245904000
+MAP	SERIALIZE_OUTPUT	3639428000
+MAP	MAP_MEM	219133728
+SPILL	SORT_AND_SPILL	43885185000
+SPILL	QUICK_SORT	2974561000
+SPILL	SORT_COUNT	1025272
+SPILL	COMBINE	0
+SPILL	WRITE	40910624000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	149832553
+SPILL	COMPRESS_BYTE_COUNT	45994342
+MERGE	TOTAL_MERGE	1626000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	91484651000
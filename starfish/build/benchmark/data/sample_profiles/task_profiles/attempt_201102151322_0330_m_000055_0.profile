@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.2	0
+MAP	STARTUP_MEM	213540528
+MAP	SETUP	3362000
+MAP	SETUP_MEM	213540528
+MAP	CLEANUP	89000
+MAP	CLEANUP_MEM	234870296
+MAP	TOTAL_RUN	40597854000
+MAP	READ	7552811000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	8508106
+MAP	VALUE_BYTE_COUNT	133176642
+MAP	MAP	27717335000
+MAP	WRITE	10315677000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1163083000
+MAP	SERIALIZE_OUTPUT	5717938000
+MAP	MAP_MEM	235432456
+SPILL	SORT_AND_SPILL	55120530000
+SPILL	QUICK_SORT	3243362000
+SPILL	SORT_COUNT	1041110
+SPILL	COMBINE	0
+SPILL	WRITE	51877168000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	147869657
+SPILL	COMPRESS_BYTE_COUNT	46556426
+MERGE	TOTAL_MERGE	1599000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	96387076000
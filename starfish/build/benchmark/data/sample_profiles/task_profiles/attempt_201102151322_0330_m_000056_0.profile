@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.2	0
+MAP	STARTUP_MEM	213518016
+MAP	SETUP	3870000
+MAP	SETUP_MEM	214799728
+MAP	CLEANUP	101000
+MAP	CLEANUP_MEM	234968160
+MAP	TOTAL_RUN	38977255293
+MAP	READ	6262977000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9369171
+MAP	VALUE_BYTE_COUNT	133176783
+MAP	MAP	26667899293
+MAP	WRITE	8884495293
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1576031000
+MAP	SERIALIZE_OUTPUT	3137375000
+MAP	MAP_MEM	235530320
+SPILL	SORT_AND_SPILL	49081097293
+SPILL	QUICK_SORT	1747104000
+SPILL	SORT_COUNT	1041019
+SPILL	COMBINE	0
+SPILL	WRITE	47333993293
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	147869315
+SPILL	COMPRESS_BYTE_COUNT	46550335
+MERGE	TOTAL_MERGE	1714000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	89292662586
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.2	0
+MAP	STARTUP_MEM	213540656
+MAP	SETUP	6080000
+MAP	SETUP_MEM	214836136
+MAP	CLEANUP	96000
+MAP	CLEANUP_MEM	236863728
+MAP	TOTAL_RUN	66266415372
+MAP	READ	9155198000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9369027
+MAP	VALUE_BYTE_COUNT	133176627
+MAP	MAP	45252317372
+MAP	WRITE	20105947000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	3387776000
+MAP	SERIALIZE_OUTPUT	6930470000
+MAP	MAP_MEM	236863728
+SPILL	SORT_AND_SPILL	46158512371
+SPILL	QUICK_SORT	2281960000
+SPILL	SORT_COUNT	1041003
+SPILL	COMBINE	0
+SPILL	WRITE	43876552371
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	147869316
+SPILL	COMPRESS_BYTE_COUNT	46555130
+MERGE	TOTAL_MERGE	1621000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	112889307743
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.2	0
+MAP	STARTUP_MEM	213545360
+MAP	SETUP	3658000
+MAP	SETUP_MEM	214854400
+MAP	CLEANUP	106000
+MAP	CLEANUP_MEM	233372272
+MAP	TOTAL_RUN	28141885759
+MAP	READ	5562938000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9357273
+MAP	VALUE_BYTE_COUNT	133178080
+MAP	MAP	18762472759
+MAP	WRITE	5683243000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	946153000
+MAP	SERIALIZE_OUTPUT	2145250000
+MAP	MAP_MEM	233372272
+SPILL	SORT_AND_SPILL	63625037000
+SPILL	QUICK_SORT	2881396000
+SPILL	SORT_COUNT	1039697
+SPILL	COMBINE	0
+SPILL	WRITE	60743641000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	148026821
+SPILL	COMPRESS_BYTE_COUNT	46510802
+MERGE	TOTAL_MERGE	1640000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	92992767759
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.2	0
+MAP	STARTUP_MEM	212685016
+MAP	SETUP	3653000
+MAP	SETUP_MEM	213980496
+MAP	CLEANUP	93000
+MAP	CLEANUP_MEM	227739816
+MAP	TOTAL_RUN	60509014293
+MAP	READ	13758260000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9297180
+MAP	VALUE_BYTE_COUNT	133184717
+MAP	MAP	36987398293
+MAP	WRITE	16131795000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	2774307000
+MAP	SERIALIZE_OUTPUT	5896310000
+MAP	MAP_MEM	227739816
+SPILL	SORT_AND_SPILL	59523921293
+SPILL	QUICK_SORT	3105794000
+SPILL	SORT_COUNT	1033020
+SPILL	COMBINE	0
+SPILL	WRITE	56418127293
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	148858243
+SPILL	COMPRESS_BYTE_COUNT	46267046
+MERGE	TOTAL_MERGE	1884000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	120855049586
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.20	0
+MAP	STARTUP_MEM	212678992
+MAP	SETUP	4445000
+MAP	SETUP_MEM	213534632
+MAP	CLEANUP	102000
+MAP	CLEANUP_MEM	218272992
+MAP	TOTAL_RUN	26222325000
+MAP	READ	4508333000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	8377579
+MAP	VALUE_BYTE_COUNT	133192620
+MAP	MAP	18062330000
+MAP	WRITE	5422798000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	951004000
+MAP	SERIALIZE_OUTPUT	2117199000
+MAP	MAP_MEM	218272992
+SPILL	SORT_AND_SPILL	52714258000
+SPILL	QUICK_SORT	2069727000
+SPILL	SORT_COUNT	1025142
+SPILL	COMBINE	0
+SPILL	WRITE	50644531000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	149832416
+SPILL	COMPRESS_BYTE_COUNT	45988410
+MERGE	TOTAL_MERGE	1692000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	79395278000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.20	0
+MAP	STARTUP_MEM	212665872
+MAP	SETUP	5909000
+MAP	SETUP_MEM	213950168
+MAP	CLEANUP	108000
+MAP	CLEANUP_MEM	219230760
+MAP	TOTAL_RUN	34490205000
+MAP	READ	5759293000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9225540
+MAP	VALUE_BYTE_COUNT	133192669
+MAP	MAP	24407975000
+MAP	WRITE	9925043000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	2359214000
+MAP	SERIALIZE_OUTPUT	3672362000
+MAP	MAP_MEM	219230760
+SPILL	SORT_AND_SPILL	41936174000
+SPILL	QUICK_SORT	1687536000
+SPILL	SORT_COUNT	1025060
+SPILL	COMBINE	0
+SPILL	WRITE	40248638000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	149831466
+SPILL	COMPRESS_BYTE_COUNT	45991054
+MERGE	TOTAL_MERGE	1625000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	77171825000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.20	0
+MAP	STARTUP_MEM	212661144
+MAP	SETUP	6145000
+MAP	SETUP_MEM	213941592
+MAP	CLEANUP	101000
+MAP	CLEANUP_MEM	219722664
+MAP	TOTAL_RUN	29737945000
+MAP	READ	4702454000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9225153
+MAP	VALUE_BYTE_COUNT	133192789
+MAP	MAP	20175411000
+MAP	WRITE	6170301000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	923067000
+MAP	SERIALIZE_OUTPUT	2057626000
+MAP	MAP_MEM	219722664
+SPILL	SORT_AND_SPILL	40695323000
+SPILL	QUICK_SORT	1652313000
+SPILL	SORT_COUNT	1025017
+SPILL	COMBINE	0
+SPILL	WRITE	39043010000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	149830878
+SPILL	COMPRESS_BYTE_COUNT	45982930
+MERGE	TOTAL_MERGE	1664000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	71561773000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.20	0
+MAP	STARTUP_MEM	213536192
+MAP	SETUP	3940000
+MAP	SETUP_MEM	214836072
+MAP	CLEANUP	92000
+MAP	CLEANUP_MEM	219142168
+MAP	TOTAL_RUN	46604023982
+MAP	READ	9173746000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9226638
+MAP	VALUE_BYTE_COUNT	133192527
+MAP	MAP	30821604982
+MAP	WRITE	13484842000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	969771000
+MAP	SERIALIZE_OUTPUT	2847427000
+MAP	MAP_MEM	219142168
+SPILL	SORT_AND_SPILL	53380559000
+SPILL	QUICK_SORT	1997706000
+SPILL	SORT_COUNT	1025182
+SPILL	COMBINE	0
+SPILL	WRITE	51382853000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	149831925
+SPILL	COMPRESS_BYTE_COUNT	45991357
+MERGE	TOTAL_MERGE	1648000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	100492892982
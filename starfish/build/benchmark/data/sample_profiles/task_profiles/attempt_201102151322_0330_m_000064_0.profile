@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.20	0
+MAP	STARTUP_MEM	212698808
+MAP	SETUP	3665000
+MAP	SETUP_MEM	214018120
+MAP	CLEANUP	95000
+MAP	CLEANUP_MEM	221132088
+MAP	TOTAL_RUN	59164209293
+MAP	READ	13833632000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9226620
+MAP	VALUE_BYTE_COUNT	133192548
+MAP	MAP	34571790293
+MAP	WRITE	13284633000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1778197000
+MAP	SERIALIZE_OUTPUT	4727622000
+MAP	MAP_MEM	221132088
+SPILL	SORT_AND_SPILL	49865818292
+SPILL	QUICK_SORT	5289962000
+SPILL	SORT_COUNT	1025180
+SPILL	COMBINE	0
+SPILL	WRITE	44575856292
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	149832275
+SPILL	COMPRESS_BYTE_COUNT	45989439
+MERGE	TOTAL_MERGE	1715000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	109611301585
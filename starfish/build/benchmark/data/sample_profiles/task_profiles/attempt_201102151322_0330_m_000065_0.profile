@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.21	0
+MAP	STARTUP_MEM	212698592
+MAP	SETUP	3570000
+MAP	SETUP_MEM	212698592
+MAP	CLEANUP	103000
+MAP	CLEANUP_MEM	219145528
+MAP	TOTAL_RUN	37619453068
+MAP	READ	5466295000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	8379235
+MAP	VALUE_BYTE_COUNT	133192497
+MAP	MAP	24728570000
+MAP	WRITE	9280088000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1830180000
+MAP	SERIALIZE_OUTPUT	3221283000
+MAP	MAP_MEM	219145528
+SPILL	SORT_AND_SPILL	58515927167
+SPILL	QUICK_SORT	4177502000
+SPILL	SORT_COUNT	1025339
+SPILL	COMBINE	0
+SPILL	WRITE	54338425167
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	149833630
+SPILL	COMPRESS_BYTE_COUNT	45996854
+MERGE	TOTAL_MERGE	1882000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	96755946235
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.21	0
+MAP	STARTUP_MEM	213537376
+MAP	SETUP	5561000
+MAP	SETUP_MEM	214822768
+MAP	CLEANUP	101000
+MAP	CLEANUP_MEM	220601280
+MAP	TOTAL_RUN	60428446000
+MAP	READ	9696511000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9227547
+MAP	VALUE_BYTE_COUNT	133192402
+MAP	MAP	39783769000
+MAP	WRITE	18584998000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1549668000
+MAP	SERIALIZE_OUTPUT	3957427000
+MAP	MAP_MEM	221163440
+SPILL	SORT_AND_SPILL	60514371000
+SPILL	QUICK_SORT	4178258000
+SPILL	SORT_COUNT	1025283
+SPILL	COMBINE	0
+SPILL	WRITE	56336113000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	149832198
+SPILL	COMPRESS_BYTE_COUNT	45993798
+MERGE	TOTAL_MERGE	1665000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	121919343000
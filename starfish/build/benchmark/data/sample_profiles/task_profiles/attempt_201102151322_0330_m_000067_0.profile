@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.21	0
+MAP	STARTUP_MEM	212686824
+MAP	SETUP	3668000
+MAP	SETUP_MEM	214858520
+MAP	CLEANUP	104000
+MAP	CLEANUP_MEM	219124648
+MAP	TOTAL_RUN	40355606000
+MAP	READ	5799206000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9227259
+MAP	VALUE_BYTE_COUNT	133192422
+MAP	MAP	27479050000
+MAP	WRITE	9028843000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1406462000
+MAP	SERIALIZE_OUTPUT	2936918000
+MAP	MAP_MEM	219686808
+SPILL	SORT_AND_SPILL	48942023000
+SPILL	QUICK_SORT	4013984000
+SPILL	SORT_COUNT	1025251
+SPILL	COMBINE	0
+SPILL	WRITE	44928039000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	149831588
+SPILL	COMPRESS_BYTE_COUNT	45995657
+MERGE	TOTAL_MERGE	1706000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	89805877000
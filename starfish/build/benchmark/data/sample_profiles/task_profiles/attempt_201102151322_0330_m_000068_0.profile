@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.21	0
+MAP	STARTUP_MEM	212673552
+MAP	SETUP	3603000
+MAP	SETUP_MEM	213966416
+MAP	CLEANUP	90000
+MAP	CLEANUP_MEM	219166160
+MAP	TOTAL_RUN	51282476372
+MAP	READ	9888029000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9226503
+MAP	VALUE_BYTE_COUNT	133192618
+MAP	MAP	32355927372
+MAP	WRITE	15581029000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1241269000
+MAP	SERIALIZE_OUTPUT	4023364000
+MAP	MAP_MEM	219728320
+SPILL	SORT_AND_SPILL	32286223371
+SPILL	QUICK_SORT	1576008000
+SPILL	SORT_COUNT	1025167
+SPILL	COMBINE	0
+SPILL	WRITE	30710215371
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	149832195
+SPILL	COMPRESS_BYTE_COUNT	45989852
+MERGE	TOTAL_MERGE	1626000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	85377715743
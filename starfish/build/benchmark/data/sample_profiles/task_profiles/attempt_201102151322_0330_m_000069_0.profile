@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.21	0
+MAP	STARTUP_MEM	212685112
+MAP	SETUP	3651000
+MAP	SETUP_MEM	213980592
+MAP	CLEANUP	213000
+MAP	CLEANUP_MEM	219141208
+MAP	TOTAL_RUN	43672663068
+MAP	READ	6119263000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9226845
+MAP	VALUE_BYTE_COUNT	133192585
+MAP	MAP	27713299000
+MAP	WRITE	12076917000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	2633946000
+MAP	SERIALIZE_OUTPUT	2629243000
+MAP	MAP_MEM	219703368
+SPILL	SORT_AND_SPILL	71286022167
+SPILL	QUICK_SORT	3528622000
+SPILL	SORT_COUNT	1025205
+SPILL	COMBINE	0
+SPILL	WRITE	67757400167
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	149832262
+SPILL	COMPRESS_BYTE_COUNT	45988848
+MERGE	TOTAL_MERGE	1740000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	118105986235
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.22	0
+MAP	STARTUP_MEM	212675576
+MAP	SETUP	53464000
+MAP	SETUP_MEM	213531216
+MAP	CLEANUP	91000
+MAP	CLEANUP_MEM	218302288
+MAP	TOTAL_RUN	24966334000
+MAP	READ	3709519000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	8378515
+MAP	VALUE_BYTE_COUNT	133192543
+MAP	MAP	17547823000
+MAP	WRITE	5322979000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	928036000
+MAP	SERIALIZE_OUTPUT	2118995000
+MAP	MAP_MEM	218302288
+SPILL	SORT_AND_SPILL	44637971000
+SPILL	QUICK_SORT	1950057000
+SPILL	SORT_COUNT	1025253
+SPILL	COMBINE	0
+SPILL	WRITE	42687914000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	149832694
+SPILL	COMPRESS_BYTE_COUNT	45993481
+MERGE	TOTAL_MERGE	1731000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	71374371000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.22	0
+MAP	STARTUP_MEM	212693512
+MAP	SETUP	6773000
+MAP	SETUP_MEM	214015768
+MAP	CLEANUP	90000
+MAP	CLEANUP_MEM	219166248
+MAP	TOTAL_RUN	43079353982
+MAP	READ	9777635000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9226737
+MAP	VALUE_BYTE_COUNT	133192575
+MAP	MAP	26050655982
+MAP	WRITE	10649479000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1550071000
+MAP	SERIALIZE_OUTPUT	5468562000
+MAP	MAP_MEM	219166248
+SPILL	SORT_AND_SPILL	55809724000
+SPILL	QUICK_SORT	2447528000
+SPILL	SORT_COUNT	1025193
+SPILL	COMBINE	0
+SPILL	WRITE	53362196000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	149831673
+SPILL	COMPRESS_BYTE_COUNT	45991440
+MERGE	TOTAL_MERGE	1862000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	99540787982
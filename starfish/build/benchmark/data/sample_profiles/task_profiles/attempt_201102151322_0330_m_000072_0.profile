@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.22	0
+MAP	STARTUP_MEM	212676448
+MAP	SETUP	3796000
+MAP	SETUP_MEM	213962944
+MAP	CLEANUP	97000
+MAP	CLEANUP_MEM	219225368
+MAP	TOTAL_RUN	31931623000
+MAP	READ	4939498000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9227556
+MAP	VALUE_BYTE_COUNT	133192464
+MAP	MAP	22117258000
+MAP	WRITE	6437995000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1564791000
+MAP	SERIALIZE_OUTPUT	2215131000
+MAP	MAP_MEM	219787528
+SPILL	SORT_AND_SPILL	52654990000
+SPILL	QUICK_SORT	2151634000
+SPILL	SORT_COUNT	1025284
+SPILL	COMBINE	0
+SPILL	WRITE	50503356000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	149832331
+SPILL	COMPRESS_BYTE_COUNT	45990832
+MERGE	TOTAL_MERGE	1623000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	86136878000
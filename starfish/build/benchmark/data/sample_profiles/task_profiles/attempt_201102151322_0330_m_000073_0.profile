@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.22	0
+MAP	STARTUP_MEM	212664080
+MAP	SETUP	4047000
+MAP	SETUP_MEM	214803112
+MAP	CLEANUP	111000
+MAP	CLEANUP_MEM	220575152
+MAP	TOTAL_RUN	56026769888
+MAP	READ	13496724888
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9226899
+MAP	VALUE_BYTE_COUNT	133192457
+MAP	MAP	36066687000
+MAP	WRITE	16079047000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	4668069000
+MAP	SERIALIZE_OUTPUT	6925200000
+MAP	MAP_MEM	221137312
+SPILL	SORT_AND_SPILL	50438321143
+SPILL	QUICK_SORT	1789051000
+SPILL	SORT_COUNT	1025211
+SPILL	COMBINE	0
+SPILL	WRITE	48649270143
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	149832022
+SPILL	COMPRESS_BYTE_COUNT	45994724
+MERGE	TOTAL_MERGE	1604000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	108051387031
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.22	0
+MAP	STARTUP_MEM	213548696
+MAP	SETUP	3624000
+MAP	SETUP_MEM	214870952
+MAP	CLEANUP	93000
+MAP	CLEANUP_MEM	219173624
+MAP	TOTAL_RUN	25560942000
+MAP	READ	4342761000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9226935
+MAP	VALUE_BYTE_COUNT	133192466
+MAP	MAP	17404340000
+MAP	WRITE	5925945000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1037337000
+MAP	SERIALIZE_OUTPUT	2225921000
+MAP	MAP_MEM	219173624
+SPILL	SORT_AND_SPILL	35065487000
+SPILL	QUICK_SORT	1608009000
+SPILL	SORT_COUNT	1025215
+SPILL	COMBINE	0
+SPILL	WRITE	33457478000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	149831972
+SPILL	COMPRESS_BYTE_COUNT	45989165
+MERGE	TOTAL_MERGE	2357000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	61774910000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.23	0
+MAP	STARTUP_MEM	212666520
+MAP	SETUP	3494000
+MAP	SETUP_MEM	212666520
+MAP	CLEANUP	102000
+MAP	CLEANUP_MEM	217736408
+MAP	TOTAL_RUN	31899571888
+MAP	READ	5905949000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	8377652
+MAP	VALUE_BYTE_COUNT	133192583
+MAP	MAP	21166851888
+MAP	WRITE	7543609000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1419111000
+MAP	SERIALIZE_OUTPUT	2443176000
+MAP	MAP_MEM	218298568
+SPILL	SORT_AND_SPILL	59889716143
+SPILL	QUICK_SORT	1704385000
+SPILL	SORT_COUNT	1025149
+SPILL	COMBINE	0
+SPILL	WRITE	58185331143
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	149831667
+SPILL	COMPRESS_BYTE_COUNT	45993249
+MERGE	TOTAL_MERGE	1770000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	92589187031
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.23	0
+MAP	STARTUP_MEM	213538448
+MAP	SETUP	5076000
+MAP	SETUP_MEM	214850496
+MAP	CLEANUP	98000
+MAP	CLEANUP_MEM	220584336
+MAP	TOTAL_RUN	58695990000
+MAP	READ	8501093000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9226584
+MAP	VALUE_BYTE_COUNT	133192586
+MAP	MAP	39170584000
+MAP	WRITE	16399139000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	3024171000
+MAP	SERIALIZE_OUTPUT	4257780000
+MAP	MAP_MEM	221146496
+SPILL	SORT_AND_SPILL	43906190000
+SPILL	QUICK_SORT	3515269000
+SPILL	SORT_COUNT	1025176
+SPILL	COMBINE	0
+SPILL	WRITE	40390921000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	149832004
+SPILL	COMPRESS_BYTE_COUNT	45992985
+MERGE	TOTAL_MERGE	11933000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	103375105000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.23	0
+MAP	STARTUP_MEM	213532264
+MAP	SETUP	5974000
+MAP	SETUP_MEM	214819320
+MAP	CLEANUP	93000
+MAP	CLEANUP_MEM	219692192
+MAP	TOTAL_RUN	41277744293
+MAP	READ	7732136000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9226413
+MAP	VALUE_BYTE_COUNT	133192604
+MAP	MAP	24169041000
+MAP	WRITE	8721082000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1463008000
+MAP	SERIALIZE_OUTPUT	3017284000
+MAP	MAP_MEM	219692192
+SPILL	SORT_AND_SPILL	44448207292
+SPILL	QUICK_SORT	2063515000
+SPILL	SORT_COUNT	1025157
+SPILL	COMBINE	0
+SPILL	WRITE	42384692292
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	149832159
+SPILL	COMPRESS_BYTE_COUNT	45993148
+MERGE	TOTAL_MERGE	1667000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	88308315585
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.23	0
+MAP	STARTUP_MEM	213529624
+MAP	SETUP	31958000
+MAP	SETUP_MEM	214818216
+MAP	CLEANUP	100000
+MAP	CLEANUP_MEM	219132216
+MAP	TOTAL_RUN	33188158000
+MAP	READ	5486415000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9226602
+MAP	VALUE_BYTE_COUNT	133192526
+MAP	MAP	22858338000
+MAP	WRITE	7352955000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	930624000
+MAP	SERIALIZE_OUTPUT	2164306000
+MAP	MAP_MEM	219694376
+SPILL	SORT_AND_SPILL	61205558000
+SPILL	QUICK_SORT	1708046000
+SPILL	SORT_COUNT	1025178
+SPILL	COMBINE	0
+SPILL	WRITE	59497512000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	149832741
+SPILL	COMPRESS_BYTE_COUNT	45995367
+MERGE	TOTAL_MERGE	37916000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	94999927000
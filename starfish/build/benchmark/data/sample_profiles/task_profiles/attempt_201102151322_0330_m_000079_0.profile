@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.23	0
+MAP	STARTUP_MEM	213530144
+MAP	SETUP	3458000
+MAP	SETUP_MEM	214823976
+MAP	CLEANUP	186000
+MAP	CLEANUP_MEM	219130192
+MAP	TOTAL_RUN	26251476000
+MAP	READ	3797702000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9226080
+MAP	VALUE_BYTE_COUNT	133192648
+MAP	MAP	18939647000
+MAP	WRITE	6731340000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1054867000
+MAP	SERIALIZE_OUTPUT	3150484000
+MAP	MAP_MEM	219130192
+SPILL	SORT_AND_SPILL	64854920000
+SPILL	QUICK_SORT	1720781000
+SPILL	SORT_COUNT	1025120
+SPILL	COMBINE	0
+SPILL	WRITE	63134139000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	149830983
+SPILL	COMPRESS_BYTE_COUNT	45988265
+MERGE	TOTAL_MERGE	1617000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	92242740000
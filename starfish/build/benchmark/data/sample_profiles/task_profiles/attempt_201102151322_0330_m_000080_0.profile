@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.24	0
+MAP	STARTUP_MEM	213531824
+MAP	SETUP	3367000
+MAP	SETUP_MEM	213531824
+MAP	CLEANUP	98000
+MAP	CLEANUP_MEM	219733448
+MAP	TOTAL_RUN	40520193000
+MAP	READ	7160661000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	8377694
+MAP	VALUE_BYTE_COUNT	133192699
+MAP	MAP	25079155000
+MAP	WRITE	9593582000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	2101385000
+MAP	SERIALIZE_OUTPUT	2843638000
+MAP	MAP_MEM	219733448
+SPILL	SORT_AND_SPILL	54224469385
+SPILL	QUICK_SORT	1961446000
+SPILL	SORT_COUNT	1025157
+SPILL	COMBINE	0
+SPILL	WRITE	52263023385
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	149831753
+SPILL	COMPRESS_BYTE_COUNT	45992692
+MERGE	TOTAL_MERGE	1598000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	95176852385
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.24	0
+MAP	STARTUP_MEM	215860696
+MAP	SETUP	3540000
+MAP	SETUP_MEM	217150744
+MAP	CLEANUP	98000
+MAP	CLEANUP_MEM	220610424
+MAP	TOTAL_RUN	45721940000
+MAP	READ	6656729000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9226476
+MAP	VALUE_BYTE_COUNT	133192488
+MAP	MAP	29116822000
+MAP	WRITE	10137592000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	962258000
+MAP	SERIALIZE_OUTPUT	2681728000
+MAP	MAP_MEM	220610424
+SPILL	SORT_AND_SPILL	56471349000
+SPILL	QUICK_SORT	2626233000
+SPILL	SORT_COUNT	1025164
+SPILL	COMBINE	0
+SPILL	WRITE	53845116000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	149831290
+SPILL	COMPRESS_BYTE_COUNT	45997386
+MERGE	TOTAL_MERGE	1793000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	107967958000
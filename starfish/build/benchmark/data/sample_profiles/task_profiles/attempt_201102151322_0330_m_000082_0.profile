@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.24	0
+MAP	STARTUP_MEM	212688352
+MAP	SETUP	3678000
+MAP	SETUP_MEM	213987168
+MAP	CLEANUP	95000
+MAP	CLEANUP_MEM	220545568
+MAP	TOTAL_RUN	51737541848
+MAP	READ	10728338000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9226206
+MAP	VALUE_BYTE_COUNT	133192574
+MAP	MAP	32277072848
+MAP	WRITE	13093248848
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1564963000
+MAP	SERIALIZE_OUTPUT	4666726848
+MAP	MAP_MEM	221107728
+SPILL	SORT_AND_SPILL	71860770152
+SPILL	QUICK_SORT	2148855000
+SPILL	SORT_COUNT	1025134
+SPILL	COMBINE	0
+SPILL	WRITE	69711915152
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	149831056
+SPILL	COMPRESS_BYTE_COUNT	45996641
+MERGE	TOTAL_MERGE	103744000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	126514495000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.24	0
+MAP	STARTUP_MEM	213526520
+MAP	SETUP	5245000
+MAP	SETUP_MEM	214816648
+MAP	CLEANUP	93000
+MAP	CLEANUP_MEM	220560224
+MAP	TOTAL_RUN	44586881000
+MAP	READ	6623104000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9227286
+MAP	VALUE_BYTE_COUNT	133192541
+MAP	MAP	29639343000
+MAP	WRITE	8924804000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1055044000
+MAP	SERIALIZE_OUTPUT	3320393000
+MAP	MAP_MEM	221122384
+SPILL	SORT_AND_SPILL	46861797000
+SPILL	QUICK_SORT	1707360000
+SPILL	SORT_COUNT	1025254
+SPILL	COMBINE	0
+SPILL	WRITE	45154437000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	149832485
+SPILL	COMPRESS_BYTE_COUNT	45993413
+MERGE	TOTAL_MERGE	1647000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	94015600000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.24	0
+MAP	STARTUP_MEM	212676272
+MAP	SETUP	9247000
+MAP	SETUP_MEM	214827392
+MAP	CLEANUP	94000
+MAP	CLEANUP_MEM	219172816
+MAP	TOTAL_RUN	37342837000
+MAP	READ	5561526000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9227322
+MAP	VALUE_BYTE_COUNT	133192423
+MAP	MAP	24833093000
+MAP	WRITE	9539254000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1243125000
+MAP	SERIALIZE_OUTPUT	4026351000
+MAP	MAP_MEM	219734976
+SPILL	SORT_AND_SPILL	54009386395
+SPILL	QUICK_SORT	1968530000
+SPILL	SORT_COUNT	1025258
+SPILL	COMBINE	0
+SPILL	WRITE	52040856395
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	149832463
+SPILL	COMPRESS_BYTE_COUNT	45999365
+MERGE	TOTAL_MERGE	101334000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	93099158395
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.25	0
+MAP	STARTUP_MEM	213543128
+MAP	SETUP	3310000
+MAP	SETUP_MEM	213543128
+MAP	CLEANUP	89000
+MAP	CLEANUP_MEM	219129960
+MAP	TOTAL_RUN	32450679000
+MAP	READ	6572831000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	8376869
+MAP	VALUE_BYTE_COUNT	133192689
+MAP	MAP	18757057000
+MAP	WRITE	5435550000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	995986000
+MAP	SERIALIZE_OUTPUT	2083004000
+MAP	MAP_MEM	219692120
+SPILL	SORT_AND_SPILL	58695645000
+SPILL	QUICK_SORT	2692062000
+SPILL	SORT_COUNT	1025053
+SPILL	COMBINE	0
+SPILL	WRITE	56003583000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	149830530
+SPILL	COMPRESS_BYTE_COUNT	45988800
+MERGE	TOTAL_MERGE	1585000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	91561043000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.25	0
+MAP	STARTUP_MEM	213540560
+MAP	SETUP	5513000
+MAP	SETUP_MEM	214854728
+MAP	CLEANUP	90000
+MAP	CLEANUP_MEM	219171784
+MAP	TOTAL_RUN	40570203000
+MAP	READ	7166280000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9228078
+MAP	VALUE_BYTE_COUNT	133192399
+MAP	MAP	27699304000
+MAP	WRITE	7131047000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1115334000
+MAP	SERIALIZE_OUTPUT	2147216000
+MAP	MAP_MEM	219733944
+SPILL	SORT_AND_SPILL	55280149000
+SPILL	QUICK_SORT	2445903000
+SPILL	SORT_COUNT	1025342
+SPILL	COMBINE	0
+SPILL	WRITE	52834246000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	149833544
+SPILL	COMPRESS_BYTE_COUNT	45993631
+MERGE	TOTAL_MERGE	1599000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	96365857000
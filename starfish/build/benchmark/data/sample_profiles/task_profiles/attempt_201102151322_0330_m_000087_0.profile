@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.25	0
+MAP	STARTUP_MEM	213548296
+MAP	SETUP	7751000
+MAP	SETUP_MEM	214861448
+MAP	CLEANUP	96000
+MAP	CLEANUP_MEM	219164384
+MAP	TOTAL_RUN	25542440000
+MAP	READ	4737458000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9226440
+MAP	VALUE_BYTE_COUNT	133192604
+MAP	MAP	17182647000
+MAP	WRITE	5264171000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	967347000
+MAP	SERIALIZE_OUTPUT	2059871000
+MAP	MAP_MEM	219164384
+SPILL	SORT_AND_SPILL	30915068000
+SPILL	QUICK_SORT	1985754000
+SPILL	SORT_COUNT	1025160
+SPILL	COMBINE	0
+SPILL	WRITE	28929314000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	149832595
+SPILL	COMPRESS_BYTE_COUNT	45992164
+MERGE	TOTAL_MERGE	118393000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	57374683000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.25	0
+MAP	STARTUP_MEM	213519600
+MAP	SETUP	5228000
+MAP	SETUP_MEM	214801880
+MAP	CLEANUP	109000
+MAP	CLEANUP_MEM	219704648
+MAP	TOTAL_RUN	26120336000
+MAP	READ	3848403000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9228006
+MAP	VALUE_BYTE_COUNT	133192353
+MAP	MAP	18075542000
+MAP	WRITE	5418512000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	904608000
+MAP	SERIALIZE_OUTPUT	2106821000
+MAP	MAP_MEM	219704648
+SPILL	SORT_AND_SPILL	44677346000
+SPILL	QUICK_SORT	1793451000
+SPILL	SORT_COUNT	1025334
+SPILL	COMBINE	0
+SPILL	WRITE	42883895000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	149832911
+SPILL	COMPRESS_BYTE_COUNT	45993145
+MERGE	TOTAL_MERGE	1761000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	72878688000
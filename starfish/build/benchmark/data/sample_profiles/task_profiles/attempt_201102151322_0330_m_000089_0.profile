@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.25	0
+MAP	STARTUP_MEM	213539544
+MAP	SETUP	5645000
+MAP	SETUP_MEM	214852696
+MAP	CLEANUP	106000
+MAP	CLEANUP_MEM	219187096
+MAP	TOTAL_RUN	44097354000
+MAP	READ	10885734000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9225207
+MAP	VALUE_BYTE_COUNT	133192833
+MAP	MAP	26141459000
+MAP	WRITE	10885575000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	948680000
+MAP	SERIALIZE_OUTPUT	4283256000
+MAP	MAP_MEM	219187096
+SPILL	SORT_AND_SPILL	50154551000
+SPILL	QUICK_SORT	1553288000
+SPILL	SORT_COUNT	1025023
+SPILL	COMBINE	0
+SPILL	WRITE	48601263000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	149831384
+SPILL	COMPRESS_BYTE_COUNT	45985868
+MERGE	TOTAL_MERGE	173932000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	94966647000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.26	0
+MAP	STARTUP_MEM	213532224
+MAP	SETUP	3655000
+MAP	SETUP_MEM	213532224
+MAP	CLEANUP	123000
+MAP	CLEANUP_MEM	221098112
+MAP	TOTAL_RUN	49731344000
+MAP	READ	8336494000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	8378680
+MAP	VALUE_BYTE_COUNT	133192522
+MAP	MAP	33336778000
+MAP	WRITE	11964232000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1630361000
+MAP	SERIALIZE_OUTPUT	3567641000
+MAP	MAP_MEM	221098112
+SPILL	SORT_AND_SPILL	56380410000
+SPILL	QUICK_SORT	1618044000
+SPILL	SORT_COUNT	1025275
+SPILL	COMBINE	0
+SPILL	WRITE	54762366000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	149832555
+SPILL	COMPRESS_BYTE_COUNT	45995381
+MERGE	TOTAL_MERGE	1783000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	107020670000
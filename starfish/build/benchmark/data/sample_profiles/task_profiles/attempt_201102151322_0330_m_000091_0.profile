@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.26	0
+MAP	STARTUP_MEM	212669336
+MAP	SETUP	3688000
+MAP	SETUP_MEM	213957920
+MAP	CLEANUP	95000
+MAP	CLEANUP_MEM	219681696
+MAP	TOTAL_RUN	26503097000
+MAP	READ	3599610000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9226188
+MAP	VALUE_BYTE_COUNT	133192540
+MAP	MAP	19074415000
+MAP	WRITE	5733437000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	952052000
+MAP	SERIALIZE_OUTPUT	2314770000
+MAP	MAP_MEM	219681696
+SPILL	SORT_AND_SPILL	45894402000
+SPILL	QUICK_SORT	1879134000
+SPILL	SORT_COUNT	1025132
+SPILL	COMBINE	0
+SPILL	WRITE	44015268000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	149832038
+SPILL	COMPRESS_BYTE_COUNT	45990784
+MERGE	TOTAL_MERGE	1706000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	75193727000
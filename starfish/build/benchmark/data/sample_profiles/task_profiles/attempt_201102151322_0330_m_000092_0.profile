@@ -0,0 +1,34 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.26	0
+MAP	STARTUP_MEM	212685720
+MAP	SETUP	5697000
+MAP	SETUP_MEM	214000184
+MAP	CLEANUP	96000
+MAP	CLEANUP_MEM	219736040
+MAP	TOTAL_RUN	26607385000
+MAP	READ	4045702000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9226071
+MAP	VALUE_BYTE_COUNT	133192641
+MAP	MAP	18712061000
+MAP	WRITE	6044741000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1182093000
+MAP	SERIALIZE_OUTPUT	2452743000
+MAP	MAP_MEM	219736040
+SPILL	SORT_AND_SPILL	40782213000
+SPILL	QUICK_SORT	1714750000
+SPILL	SORT_COUNT	1025119
+SPILL	COMBINE	0
+SPILL	WRITE	39067463000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	149831040
+SPILL	COMPRESS_BYTE_COUNT	45986992
+MERGE	TOTAL_MERGE	2011000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
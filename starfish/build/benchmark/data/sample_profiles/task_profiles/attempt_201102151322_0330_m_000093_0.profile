@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.26	0
+MAP	STARTUP_MEM	212695976
+MAP	SETUP	3430000
+MAP	SETUP_MEM	214021216
+MAP	CLEANUP	89000
+MAP	CLEANUP_MEM	221120928
+MAP	TOTAL_RUN	47399819000
+MAP	READ	8196072000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9225999
+MAP	VALUE_BYTE_COUNT	133192578
+MAP	MAP	26525402000
+MAP	WRITE	8320341000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1227218000
+MAP	SERIALIZE_OUTPUT	4014550000
+MAP	MAP_MEM	221120928
+SPILL	SORT_AND_SPILL	46526324000
+SPILL	QUICK_SORT	2872021000
+SPILL	SORT_COUNT	1025111
+SPILL	COMBINE	0
+SPILL	WRITE	43654303000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	149831491
+SPILL	COMPRESS_BYTE_COUNT	45987160
+MERGE	TOTAL_MERGE	1720000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	94374298000
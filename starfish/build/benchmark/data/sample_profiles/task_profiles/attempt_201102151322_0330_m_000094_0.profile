@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.26	0
+MAP	STARTUP_MEM	213545672
+MAP	SETUP	38380000
+MAP	SETUP_MEM	214846264
+MAP	CLEANUP	99000
+MAP	CLEANUP_MEM	219148600
+MAP	TOTAL_RUN	41809973000
+MAP	READ	7328949000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9226611
+MAP	VALUE_BYTE_COUNT	133192651
+MAP	MAP	29240993000
+MAP	WRITE	11118599000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1421072000
+MAP	SERIALIZE_OUTPUT	5179382000
+MAP	MAP_MEM	219710760
+SPILL	SORT_AND_SPILL	52986392000
+SPILL	QUICK_SORT	5965979000
+SPILL	SORT_COUNT	1025179
+SPILL	COMBINE	0
+SPILL	WRITE	47020413000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	149832230
+SPILL	COMPRESS_BYTE_COUNT	45993110
+MERGE	TOTAL_MERGE	1654000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	95515167000
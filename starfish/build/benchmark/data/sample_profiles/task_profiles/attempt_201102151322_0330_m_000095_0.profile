@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.27	0
+MAP	STARTUP_MEM	213543824
+MAP	SETUP	3368000
+MAP	SETUP_MEM	213543824
+MAP	CLEANUP	102000
+MAP	CLEANUP_MEM	219695472
+MAP	TOTAL_RUN	43897159000
+MAP	READ	11860693000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	8378357
+MAP	VALUE_BYTE_COUNT	133192554
+MAP	MAP	24851371000
+MAP	WRITE	9345990000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1520069000
+MAP	SERIALIZE_OUTPUT	2420233000
+MAP	MAP_MEM	219695472
+SPILL	SORT_AND_SPILL	47852036000
+SPILL	QUICK_SORT	4128500000
+SPILL	SORT_COUNT	1025229
+SPILL	COMBINE	0
+SPILL	WRITE	43723536000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	149831971
+SPILL	COMPRESS_BYTE_COUNT	45994659
+MERGE	TOTAL_MERGE	1627000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	92168128000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.27	0
+MAP	STARTUP_MEM	213522856
+MAP	SETUP	5642000
+MAP	SETUP_MEM	214809352
+MAP	CLEANUP	95000
+MAP	CLEANUP_MEM	217744496
+MAP	TOTAL_RUN	25693562000
+MAP	READ	3763792000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9225423
+MAP	VALUE_BYTE_COUNT	133192627
+MAP	MAP	18389827000
+MAP	WRITE	5636506000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	957666000
+MAP	SERIALIZE_OUTPUT	2202077000
+MAP	MAP_MEM	218306656
+SPILL	SORT_AND_SPILL	37329874000
+SPILL	QUICK_SORT	1659109000
+SPILL	SORT_COUNT	1025047
+SPILL	COMBINE	0
+SPILL	WRITE	35670765000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	149830925
+SPILL	COMPRESS_BYTE_COUNT	45989672
+MERGE	TOTAL_MERGE	1670000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	65060661000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.27	0
+MAP	STARTUP_MEM	212651264
+MAP	SETUP	3781000
+MAP	SETUP_MEM	213931728
+MAP	CLEANUP	92000
+MAP	CLEANUP_MEM	219183704
+MAP	TOTAL_RUN	55912800000
+MAP	READ	12704019000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9227097
+MAP	VALUE_BYTE_COUNT	133192534
+MAP	MAP	34242472000
+MAP	WRITE	17592861000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	3342342000
+MAP	SERIALIZE_OUTPUT	5226119000
+MAP	MAP_MEM	219183704
+SPILL	SORT_AND_SPILL	38275356000
+SPILL	QUICK_SORT	2604119000
+SPILL	SORT_COUNT	1025233
+SPILL	COMBINE	0
+SPILL	WRITE	35671237000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	149831904
+SPILL	COMPRESS_BYTE_COUNT	45992873
+MERGE	TOTAL_MERGE	1663000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	94704435000
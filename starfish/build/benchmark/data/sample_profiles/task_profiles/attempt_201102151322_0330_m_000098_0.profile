@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.27	0
+MAP	STARTUP_MEM	213544984
+MAP	SETUP	520713000
+MAP	SETUP_MEM	214844888
+MAP	CLEANUP	121000
+MAP	CLEANUP_MEM	225426376
+MAP	TOTAL_RUN	57239750000
+MAP	READ	11176186000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9226836
+MAP	VALUE_BYTE_COUNT	133192497
+MAP	MAP	37930407000
+MAP	WRITE	16977915000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	2818905000
+MAP	SERIALIZE_OUTPUT	4463598000
+MAP	MAP_MEM	225426376
+SPILL	SORT_AND_SPILL	58630639000
+SPILL	QUICK_SORT	5840895000
+SPILL	SORT_COUNT	1025204
+SPILL	COMBINE	0
+SPILL	WRITE	52789744000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	149832488
+SPILL	COMPRESS_BYTE_COUNT	45994280
+MERGE	TOTAL_MERGE	1879000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	119130649000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.27	0
+MAP	STARTUP_MEM	212674904
+MAP	SETUP	3409000
+MAP	SETUP_MEM	213969024
+MAP	CLEANUP	99000
+MAP	CLEANUP_MEM	219217840
+MAP	TOTAL_RUN	39422199000
+MAP	READ	6775166000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9225189
+MAP	VALUE_BYTE_COUNT	133192769
+MAP	MAP	28098415000
+MAP	WRITE	8962768000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1007126000
+MAP	SERIALIZE_OUTPUT	4439347000
+MAP	MAP_MEM	219780000
+SPILL	SORT_AND_SPILL	51827308000
+SPILL	QUICK_SORT	1929127000
+SPILL	SORT_COUNT	1025021
+SPILL	COMBINE	0
+SPILL	WRITE	49898181000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	149830803
+SPILL	COMPRESS_BYTE_COUNT	45989383
+MERGE	TOTAL_MERGE	2195000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	91828355000
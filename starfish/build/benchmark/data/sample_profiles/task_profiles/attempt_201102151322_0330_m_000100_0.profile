@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.28	0
+MAP	STARTUP_MEM	212683736
+MAP	SETUP	3337000
+MAP	SETUP_MEM	212683736
+MAP	CLEANUP	95000
+MAP	CLEANUP_MEM	219175736
+MAP	TOTAL_RUN	46541346000
+MAP	READ	8200107000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	8376412
+MAP	VALUE_BYTE_COUNT	133192801
+MAP	MAP	27831830000
+MAP	WRITE	12903156000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	2223806000
+MAP	SERIALIZE_OUTPUT	4185343000
+MAP	MAP_MEM	219175736
+SPILL	SORT_AND_SPILL	51370876000
+SPILL	QUICK_SORT	2515634000
+SPILL	SORT_COUNT	1025006
+SPILL	COMBINE	0
+SPILL	WRITE	48855242000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	149830934
+SPILL	COMPRESS_BYTE_COUNT	45990321
+MERGE	TOTAL_MERGE	1640000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	98304950000
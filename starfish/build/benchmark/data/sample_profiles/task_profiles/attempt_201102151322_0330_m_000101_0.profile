@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.28	0
+MAP	STARTUP_MEM	213547176
+MAP	SETUP	15936000
+MAP	SETUP_MEM	214863232
+MAP	CLEANUP	106000
+MAP	CLEANUP_MEM	219750376
+MAP	TOTAL_RUN	48672398000
+MAP	READ	14027597000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9227889
+MAP	VALUE_BYTE_COUNT	133192445
+MAP	MAP	26766019000
+MAP	WRITE	9349536000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	975957000
+MAP	SERIALIZE_OUTPUT	2263427000
+MAP	MAP_MEM	219750376
+SPILL	SORT_AND_SPILL	46698058000
+SPILL	QUICK_SORT	4330911000
+SPILL	SORT_COUNT	1025321
+SPILL	COMBINE	0
+SPILL	WRITE	42367147000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	149832900
+SPILL	COMPRESS_BYTE_COUNT	45992442
+MERGE	TOTAL_MERGE	1626000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	96292262000
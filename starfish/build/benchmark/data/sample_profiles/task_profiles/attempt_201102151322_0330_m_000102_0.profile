@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.28	0
+MAP	STARTUP_MEM	212686792
+MAP	SETUP	3704000
+MAP	SETUP_MEM	214002816
+MAP	CLEANUP	89000
+MAP	CLEANUP_MEM	219123752
+MAP	TOTAL_RUN	34982819395
+MAP	READ	7191695000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9226980
+MAP	VALUE_BYTE_COUNT	133192505
+MAP	MAP	22062974395
+MAP	WRITE	8760322395
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1514371395
+MAP	SERIALIZE_OUTPUT	2994319000
+MAP	MAP_MEM	219685912
+SPILL	SORT_AND_SPILL	52783345151
+SPILL	QUICK_SORT	1690933000
+SPILL	SORT_COUNT	1025220
+SPILL	COMBINE	0
+SPILL	WRITE	51092412151
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	149831745
+SPILL	COMPRESS_BYTE_COUNT	45988823
+MERGE	TOTAL_MERGE	1744000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	88709945546
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.28	0
+MAP	STARTUP_MEM	212676304
+MAP	SETUP	8404000
+MAP	SETUP_MEM	213971896
+MAP	CLEANUP	97000
+MAP	CLEANUP_MEM	219734440
+MAP	TOTAL_RUN	56749845000
+MAP	READ	10399361000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9225891
+MAP	VALUE_BYTE_COUNT	133192535
+MAP	MAP	40875882000
+MAP	WRITE	14559715000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1054205000
+MAP	SERIALIZE_OUTPUT	7472777000
+MAP	MAP_MEM	219734440
+SPILL	SORT_AND_SPILL	50970375000
+SPILL	QUICK_SORT	5595084000
+SPILL	SORT_COUNT	1025099
+SPILL	COMBINE	0
+SPILL	WRITE	45375291000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	149832183
+SPILL	COMPRESS_BYTE_COUNT	45990093
+MERGE	TOTAL_MERGE	1694000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	109396110000
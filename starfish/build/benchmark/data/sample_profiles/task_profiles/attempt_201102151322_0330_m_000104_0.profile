@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.28	0
+MAP	STARTUP_MEM	217572776
+MAP	SETUP	3374000
+MAP	SETUP_MEM	218893688
+MAP	CLEANUP	90000
+MAP	CLEANUP_MEM	219001896
+MAP	TOTAL_RUN	42009154000
+MAP	READ	11018633000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9226791
+MAP	VALUE_BYTE_COUNT	133192528
+MAP	MAP	27064579000
+MAP	WRITE	10343468000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	2248409000
+MAP	SERIALIZE_OUTPUT	4424872000
+MAP	MAP_MEM	219001896
+SPILL	SORT_AND_SPILL	46352732000
+SPILL	QUICK_SORT	1838724000
+SPILL	SORT_COUNT	1025199
+SPILL	COMBINE	0
+SPILL	WRITE	44514008000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	149832106
+SPILL	COMPRESS_BYTE_COUNT	45992168
+MERGE	TOTAL_MERGE	4211085000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	104602053000
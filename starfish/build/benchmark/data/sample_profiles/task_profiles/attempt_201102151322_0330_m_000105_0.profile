@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.29	0
+MAP	STARTUP_MEM	213524760
+MAP	SETUP	3588000
+MAP	SETUP_MEM	213524760
+MAP	CLEANUP	99000
+MAP	CLEANUP_MEM	221099912
+MAP	TOTAL_RUN	37701787000
+MAP	READ	7329340000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	8377691
+MAP	VALUE_BYTE_COUNT	133192708
+MAP	MAP	25129965000
+MAP	WRITE	8565575000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1506712000
+MAP	SERIALIZE_OUTPUT	2682400000
+MAP	MAP_MEM	221099912
+SPILL	SORT_AND_SPILL	65744565848
+SPILL	QUICK_SORT	4377965000
+SPILL	SORT_COUNT	1025148
+SPILL	COMBINE	0
+SPILL	WRITE	61366600848
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	149831820
+SPILL	COMPRESS_BYTE_COUNT	45990218
+MERGE	TOTAL_MERGE	160822000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	104463626848
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.29	0
+MAP	STARTUP_MEM	213541144
+MAP	SETUP	13641000
+MAP	SETUP_MEM	214837192
+MAP	CLEANUP	94000
+MAP	CLEANUP_MEM	219737720
+MAP	TOTAL_RUN	30743930000
+MAP	READ	5793155000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9226044
+MAP	VALUE_BYTE_COUNT	133192576
+MAP	MAP	20179602000
+MAP	WRITE	7108115000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1066193000
+MAP	SERIALIZE_OUTPUT	3215902000
+MAP	MAP_MEM	219737720
+SPILL	SORT_AND_SPILL	33288229000
+SPILL	QUICK_SORT	2171029000
+SPILL	SORT_COUNT	1025116
+SPILL	COMBINE	0
+SPILL	WRITE	31117200000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	149832122
+SPILL	COMPRESS_BYTE_COUNT	45991361
+MERGE	TOTAL_MERGE	1662000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	65069670000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.29	0
+MAP	STARTUP_MEM	214346912
+MAP	SETUP	5483000
+MAP	SETUP_MEM	215635032
+MAP	CLEANUP	116000
+MAP	CLEANUP_MEM	219123192
+MAP	TOTAL_RUN	25585651000
+MAP	READ	3719228000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9226656
+MAP	VALUE_BYTE_COUNT	133192560
+MAP	MAP	18260311000
+MAP	WRITE	5337327000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	916312000
+MAP	SERIALIZE_OUTPUT	2126908000
+MAP	MAP_MEM	219123192
+SPILL	SORT_AND_SPILL	36554558000
+SPILL	QUICK_SORT	1655878000
+SPILL	SORT_COUNT	1025184
+SPILL	COMBINE	0
+SPILL	WRITE	34898680000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	149832512
+SPILL	COMPRESS_BYTE_COUNT	45990244
+MERGE	TOTAL_MERGE	1694000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	63567659000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.29	0
+MAP	STARTUP_MEM	212681288
+MAP	SETUP	3703000
+MAP	SETUP_MEM	213981880
+MAP	CLEANUP	109000
+MAP	CLEANUP_MEM	219159800
+MAP	TOTAL_RUN	53182608000
+MAP	READ	8442808000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9225531
+MAP	VALUE_BYTE_COUNT	133192668
+MAP	MAP	36281631000
+MAP	WRITE	12543574000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	4406526000
+MAP	SERIALIZE_OUTPUT	2295417000
+MAP	MAP_MEM	219159800
+SPILL	SORT_AND_SPILL	46213566000
+SPILL	QUICK_SORT	2286886000
+SPILL	SORT_COUNT	1025059
+SPILL	COMBINE	0
+SPILL	WRITE	43926680000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	149830866
+SPILL	COMPRESS_BYTE_COUNT	45987022
+MERGE	TOTAL_MERGE	1937000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	100822964000
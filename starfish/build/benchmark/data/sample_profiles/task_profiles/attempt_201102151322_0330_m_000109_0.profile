@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.29	0
+MAP	STARTUP_MEM	214371072
+MAP	SETUP	3449000
+MAP	SETUP_MEM	215693448
+MAP	CLEANUP	91000
+MAP	CLEANUP_MEM	219236576
+MAP	TOTAL_RUN	27638099000
+MAP	READ	3253816000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9226098
+MAP	VALUE_BYTE_COUNT	133192587
+MAP	MAP	20328754000
+MAP	WRITE	8894047000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	896818000
+MAP	SERIALIZE_OUTPUT	5526839000
+MAP	MAP_MEM	219798736
+SPILL	SORT_AND_SPILL	37259444000
+SPILL	QUICK_SORT	1588321000
+SPILL	SORT_COUNT	1025122
+SPILL	COMBINE	0
+SPILL	WRITE	35671123000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	149832020
+SPILL	COMPRESS_BYTE_COUNT	45996642
+MERGE	TOTAL_MERGE	1715000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	69157322000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.3	0
+MAP	STARTUP_MEM	213534096
+MAP	SETUP	3698000
+MAP	SETUP_MEM	213534096
+MAP	CLEANUP	134000
+MAP	CLEANUP_MEM	229690280
+MAP	TOTAL_RUN	57064469000
+MAP	READ	12713330000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	8442672
+MAP	VALUE_BYTE_COUNT	133184681
+MAP	MAP	34497354000
+MAP	WRITE	12324190000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	4413565000
+MAP	SERIALIZE_OUTPUT	3249769000
+MAP	MAP_MEM	229690280
+SPILL	SORT_AND_SPILL	48744900000
+SPILL	QUICK_SORT	2598202000
+SPILL	SORT_COUNT	1033103
+SPILL	COMBINE	0
+SPILL	WRITE	46146698000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	148858470
+SPILL	COMPRESS_BYTE_COUNT	46271387
+MERGE	TOTAL_MERGE	13312000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	106592020000
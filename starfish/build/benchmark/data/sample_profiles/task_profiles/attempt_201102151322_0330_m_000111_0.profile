@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.3	0
+MAP	STARTUP_MEM	212735272
+MAP	SETUP	10981000
+MAP	SETUP_MEM	214875216
+MAP	CLEANUP	97000
+MAP	CLEANUP_MEM	226809152
+MAP	TOTAL_RUN	42159265000
+MAP	READ	8046462000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9296748
+MAP	VALUE_BYTE_COUNT	133184705
+MAP	MAP	28215092000
+MAP	WRITE	5801217000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	905837000
+MAP	SERIALIZE_OUTPUT	1707682000
+MAP	MAP_MEM	226809152
+SPILL	SORT_AND_SPILL	49965298000
+SPILL	QUICK_SORT	3115226000
+SPILL	SORT_COUNT	1032972
+SPILL	COMBINE	0
+SPILL	WRITE	46850072000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	148858011
+SPILL	COMPRESS_BYTE_COUNT	46260524
+MERGE	TOTAL_MERGE	1671000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	94081943000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.3	0
+MAP	STARTUP_MEM	212676176
+MAP	SETUP	5188000
+MAP	SETUP_MEM	213971656
+MAP	CLEANUP	90000
+MAP	CLEANUP_MEM	227740312
+MAP	TOTAL_RUN	55969906372
+MAP	READ	10120226000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9297792
+MAP	VALUE_BYTE_COUNT	133184738
+MAP	MAP	33356500372
+MAP	WRITE	13050766372
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1755562000
+MAP	SERIALIZE_OUTPUT	4352296000
+MAP	MAP_MEM	227740312
+SPILL	SORT_AND_SPILL	46623646372
+SPILL	QUICK_SORT	1733323000
+SPILL	SORT_COUNT	1033088
+SPILL	COMBINE	0
+SPILL	WRITE	44890323372
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	148858132
+SPILL	COMPRESS_BYTE_COUNT	46262447
+MERGE	TOTAL_MERGE	188492000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	106107394744
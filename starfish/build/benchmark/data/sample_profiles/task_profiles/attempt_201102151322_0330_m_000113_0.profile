@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.3	0
+MAP	STARTUP_MEM	213535584
+MAP	SETUP	6137000
+MAP	SETUP_MEM	214834856
+MAP	CLEANUP	94000
+MAP	CLEANUP_MEM	229649384
+MAP	TOTAL_RUN	36313169000
+MAP	READ	5472896000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9296631
+MAP	VALUE_BYTE_COUNT	133184751
+MAP	MAP	24624105000
+MAP	WRITE	8202495000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1739290000
+MAP	SERIALIZE_OUTPUT	2443697000
+MAP	MAP_MEM	229649384
+SPILL	SORT_AND_SPILL	75046295000
+SPILL	QUICK_SORT	3457775000
+SPILL	SORT_COUNT	1032959
+SPILL	COMBINE	0
+SPILL	WRITE	71588520000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	148858091
+SPILL	COMPRESS_BYTE_COUNT	46263577
+MERGE	TOTAL_MERGE	101262000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	112586827000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.3	0
+MAP	STARTUP_MEM	213540776
+MAP	SETUP	6646000
+MAP	SETUP_MEM	214836456
+MAP	CLEANUP	94000
+MAP	CLEANUP_MEM	228379280
+MAP	TOTAL_RUN	59328781000
+MAP	READ	20374870000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9296289
+MAP	VALUE_BYTE_COUNT	133184734
+MAP	MAP	29913779000
+MAP	WRITE	10941036000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1968961000
+MAP	SERIALIZE_OUTPUT	2868828000
+MAP	MAP_MEM	228379280
+SPILL	SORT_AND_SPILL	60962243073
+SPILL	QUICK_SORT	4851666000
+SPILL	SORT_COUNT	1032921
+SPILL	COMBINE	0
+SPILL	WRITE	56110577073
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	148857772
+SPILL	COMPRESS_BYTE_COUNT	46259111
+MERGE	TOTAL_MERGE	1675000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	123717501073
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.30	0
+MAP	STARTUP_MEM	213533488
+MAP	SETUP	5667000
+MAP	SETUP_MEM	213533488
+MAP	CLEANUP	91000
+MAP	CLEANUP_MEM	219698112
+MAP	TOTAL_RUN	59427225151
+MAP	READ	9576433000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	8377472
+MAP	VALUE_BYTE_COUNT	133192654
+MAP	MAP	38211536151
+MAP	WRITE	14730727151
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	2218512000
+MAP	SERIALIZE_OUTPUT	5141783000
+MAP	MAP_MEM	219698112
+SPILL	SORT_AND_SPILL	66013352591
+SPILL	QUICK_SORT	4604374000
+SPILL	SORT_COUNT	1025129
+SPILL	COMBINE	0
+SPILL	WRITE	61408978591
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	149831300
+SPILL	COMPRESS_BYTE_COUNT	45987951
+MERGE	TOTAL_MERGE	1629000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	126675401742
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.30	0
+MAP	STARTUP_MEM	213531672
+MAP	SETUP	5777000
+MAP	SETUP_MEM	214818168
+MAP	CLEANUP	99000
+MAP	CLEANUP_MEM	220601808
+MAP	TOTAL_RUN	65577300293
+MAP	READ	16018059000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9226611
+MAP	VALUE_BYTE_COUNT	133192503
+MAP	MAP	41000732293
+MAP	WRITE	15341075000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	2394964000
+MAP	SERIALIZE_OUTPUT	3535797000
+MAP	MAP_MEM	221163968
+SPILL	SORT_AND_SPILL	52757815445
+SPILL	QUICK_SORT	1898442000
+SPILL	SORT_COUNT	1025179
+SPILL	COMBINE	0
+SPILL	WRITE	50859373445
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	149832694
+SPILL	COMPRESS_BYTE_COUNT	45996367
+MERGE	TOTAL_MERGE	1940000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	119398591738
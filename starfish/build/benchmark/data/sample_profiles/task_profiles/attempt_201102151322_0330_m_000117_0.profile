@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.30	0
+MAP	STARTUP_MEM	212692560
+MAP	SETUP	3532000
+MAP	SETUP_MEM	213992640
+MAP	CLEANUP	92000
+MAP	CLEANUP_MEM	219144728
+MAP	TOTAL_RUN	48651826372
+MAP	READ	9908445000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9226962
+MAP	VALUE_BYTE_COUNT	133192511
+MAP	MAP	28035246372
+MAP	WRITE	11801494372
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1582812000
+MAP	SERIALIZE_OUTPUT	4279906000
+MAP	MAP_MEM	219706888
+SPILL	SORT_AND_SPILL	56446819372
+SPILL	QUICK_SORT	2728495000
+SPILL	SORT_COUNT	1025218
+SPILL	COMBINE	0
+SPILL	WRITE	53718324372
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	149831949
+SPILL	COMPRESS_BYTE_COUNT	45992493
+MERGE	TOTAL_MERGE	1627000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	106000375744
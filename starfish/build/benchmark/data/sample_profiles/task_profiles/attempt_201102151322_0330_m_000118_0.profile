@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.30	0
+MAP	STARTUP_MEM	213544936
+MAP	SETUP	5530000
+MAP	SETUP_MEM	214844680
+MAP	CLEANUP	95000
+MAP	CLEANUP_MEM	219192968
+MAP	TOTAL_RUN	36830687848
+MAP	READ	6637899000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9226215
+MAP	VALUE_BYTE_COUNT	133192730
+MAP	MAP	24441226848
+MAP	WRITE	10161558848
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1324608000
+MAP	SERIALIZE_OUTPUT	2721083000
+MAP	MAP_MEM	219755128
+SPILL	SORT_AND_SPILL	56066137152
+SPILL	QUICK_SORT	1731999000
+SPILL	SORT_COUNT	1025135
+SPILL	COMBINE	0
+SPILL	WRITE	54334138152
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	149831570
+SPILL	COMPRESS_BYTE_COUNT	45992964
+MERGE	TOTAL_MERGE	1691000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	94163520000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.30	0
+MAP	STARTUP_MEM	212689752
+MAP	SETUP	3363000
+MAP	SETUP_MEM	214008736
+MAP	CLEANUP	104000
+MAP	CLEANUP_MEM	219145576
+MAP	TOTAL_RUN	45480709000
+MAP	READ	6770429000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9226359
+MAP	VALUE_BYTE_COUNT	133192511
+MAP	MAP	32051971000
+MAP	WRITE	15669941000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1088953000
+MAP	SERIALIZE_OUTPUT	5523408000
+MAP	MAP_MEM	219145576
+SPILL	SORT_AND_SPILL	50735130000
+SPILL	QUICK_SORT	3961190000
+SPILL	SORT_COUNT	1025151
+SPILL	COMBINE	0
+SPILL	WRITE	46773940000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	149831983
+SPILL	COMPRESS_BYTE_COUNT	45989918
+MERGE	TOTAL_MERGE	1991000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	98766273000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.4	0
+MAP	STARTUP_MEM	213540656
+MAP	SETUP	3894000
+MAP	SETUP_MEM	213540656
+MAP	CLEANUP	90000
+MAP	CLEANUP_MEM	226870920
+MAP	TOTAL_RUN	40281977000
+MAP	READ	7258207000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	8443636
+MAP	VALUE_BYTE_COUNT	133184529
+MAP	MAP	25706443000
+MAP	WRITE	10582452000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	902822000
+MAP	SERIALIZE_OUTPUT	5409892000
+MAP	MAP_MEM	226870920
+SPILL	SORT_AND_SPILL	60909577000
+SPILL	QUICK_SORT	3975091000
+SPILL	SORT_COUNT	1033226
+SPILL	COMBINE	0
+SPILL	WRITE	56934486000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	148859052
+SPILL	COMPRESS_BYTE_COUNT	46273874
+MERGE	TOTAL_MERGE	1012922000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	103639812000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.4	0
+MAP	STARTUP_MEM	213556560
+MAP	SETUP	21553000
+MAP	SETUP_MEM	214873280
+MAP	CLEANUP	106000
+MAP	CLEANUP_MEM	229074672
+MAP	TOTAL_RUN	65469540000
+MAP	READ	17601236000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9297144
+MAP	VALUE_BYTE_COUNT	133184814
+MAP	MAP	35143631000
+MAP	WRITE	15217036000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1795237000
+MAP	SERIALIZE_OUTPUT	4860476000
+MAP	MAP_MEM	229074672
+SPILL	SORT_AND_SPILL	52977121000
+SPILL	QUICK_SORT	1981452000
+SPILL	SORT_COUNT	1033016
+SPILL	COMBINE	0
+SPILL	WRITE	50995669000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	148858133
+SPILL	COMPRESS_BYTE_COUNT	46264522
+MERGE	TOTAL_MERGE	1642000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	118959950000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.4	0
+MAP	STARTUP_MEM	212667240
+MAP	SETUP	3865000
+MAP	SETUP_MEM	213953736
+MAP	CLEANUP	105000
+MAP	CLEANUP_MEM	226870744
+MAP	TOTAL_RUN	26944525000
+MAP	READ	3724236000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9298314
+MAP	VALUE_BYTE_COUNT	133184484
+MAP	MAP	19511809000
+MAP	WRITE	6339399000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1121301000
+MAP	SERIALIZE_OUTPUT	2556350000
+MAP	MAP_MEM	226870744
+SPILL	SORT_AND_SPILL	31204880000
+SPILL	QUICK_SORT	1716577000
+SPILL	SORT_COUNT	1033146
+SPILL	COMBINE	0
+SPILL	WRITE	29488303000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	148857588
+SPILL	COMPRESS_BYTE_COUNT	46268591
+MERGE	TOTAL_MERGE	1720000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	60351142000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.4	0
+MAP	STARTUP_MEM	212658976
+MAP	SETUP	5887000
+MAP	SETUP_MEM	213947056
+MAP	CLEANUP	104000
+MAP	CLEANUP_MEM	227623064
+MAP	TOTAL_RUN	30116521000
+MAP	READ	4518823000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9298062
+MAP	VALUE_BYTE_COUNT	133184691
+MAP	MAP	20026375000
+MAP	WRITE	7068938000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1138209000
+MAP	SERIALIZE_OUTPUT	2599273000
+MAP	MAP_MEM	227623064
+SPILL	SORT_AND_SPILL	60554472591
+SPILL	QUICK_SORT	1815094000
+SPILL	SORT_COUNT	1033118
+SPILL	COMBINE	0
+SPILL	WRITE	58739378591
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	148858601
+SPILL	COMPRESS_BYTE_COUNT	46264252
+MERGE	TOTAL_MERGE	1737000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	91648962591
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.4	0
+MAP	STARTUP_MEM	213531768
+MAP	SETUP	3493000
+MAP	SETUP_MEM	214821952
+MAP	CLEANUP	91000
+MAP	CLEANUP_MEM	228235760
+MAP	TOTAL_RUN	39952808000
+MAP	READ	12407860000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9297459
+MAP	VALUE_BYTE_COUNT	133184664
+MAP	MAP	21825851000
+MAP	WRITE	7186207000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	921531000
+MAP	SERIALIZE_OUTPUT	2029104000
+MAP	MAP_MEM	228235760
+SPILL	SORT_AND_SPILL	60188145000
+SPILL	QUICK_SORT	1672260000
+SPILL	SORT_COUNT	1033051
+SPILL	COMBINE	0
+SPILL	WRITE	58515885000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	148858452
+SPILL	COMPRESS_BYTE_COUNT	46263468
+MERGE	TOTAL_MERGE	1732000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	107659706000
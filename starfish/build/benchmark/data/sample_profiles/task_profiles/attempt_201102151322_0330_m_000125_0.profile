@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.5	0
+MAP	STARTUP_MEM	212689560
+MAP	SETUP	16704000
+MAP	SETUP_MEM	213545200
+MAP	CLEANUP	98000
+MAP	CLEANUP_MEM	227634992
+MAP	TOTAL_RUN	41894817000
+MAP	READ	9175062000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	8442231
+MAP	VALUE_BYTE_COUNT	133184787
+MAP	MAP	26906138000
+MAP	WRITE	9613810000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	960152000
+MAP	SERIALIZE_OUTPUT	1988573000
+MAP	MAP_MEM	228197152
+SPILL	SORT_AND_SPILL	73645628000
+SPILL	QUICK_SORT	3083089000
+SPILL	SORT_COUNT	1033049
+SPILL	COMBINE	0
+SPILL	WRITE	70562539000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	148857975
+SPILL	COMPRESS_BYTE_COUNT	46265264
+MERGE	TOTAL_MERGE	1726000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	116042987000
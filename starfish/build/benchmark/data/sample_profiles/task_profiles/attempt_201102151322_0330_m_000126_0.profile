@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.5	0
+MAP	STARTUP_MEM	212687184
+MAP	SETUP	3694000
+MAP	SETUP_MEM	213984840
+MAP	CLEANUP	94000
+MAP	CLEANUP_MEM	227613840
+MAP	TOTAL_RUN	34181724293
+MAP	READ	5898454000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9298035
+MAP	VALUE_BYTE_COUNT	133184510
+MAP	MAP	23128048293
+MAP	WRITE	7801200293
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1278209000
+MAP	SERIALIZE_OUTPUT	3278295000
+MAP	MAP_MEM	228176000
+SPILL	SORT_AND_SPILL	66471323445
+SPILL	QUICK_SORT	2424388000
+SPILL	SORT_COUNT	1033115
+SPILL	COMBINE	0
+SPILL	WRITE	64046935445
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	148858503
+SPILL	COMPRESS_BYTE_COUNT	46260757
+MERGE	TOTAL_MERGE	1782000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	102062734738
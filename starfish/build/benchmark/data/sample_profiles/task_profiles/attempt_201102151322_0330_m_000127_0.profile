@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.5	0
+MAP	STARTUP_MEM	212658216
+MAP	SETUP	11076000
+MAP	SETUP_MEM	214801312
+MAP	CLEANUP	102000
+MAP	CLEANUP_MEM	226303136
+MAP	TOTAL_RUN	28508240000
+MAP	READ	4076957000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9297549
+MAP	VALUE_BYTE_COUNT	133184717
+MAP	MAP	20341166000
+MAP	WRITE	7959038000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1039625000
+MAP	SERIALIZE_OUTPUT	2922287000
+MAP	MAP_MEM	226865296
+SPILL	SORT_AND_SPILL	36743863000
+SPILL	QUICK_SORT	5308743000
+SPILL	SORT_COUNT	1033061
+SPILL	COMBINE	0
+SPILL	WRITE	31435120000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	148858281
+SPILL	COMPRESS_BYTE_COUNT	46265517
+MERGE	TOTAL_MERGE	1621000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	65729274000
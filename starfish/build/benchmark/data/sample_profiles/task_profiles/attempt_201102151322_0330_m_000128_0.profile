@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.5	0
+MAP	STARTUP_MEM	213517808
+MAP	SETUP	17281000
+MAP	SETUP_MEM	214799288
+MAP	CLEANUP	107000
+MAP	CLEANUP_MEM	227667352
+MAP	TOTAL_RUN	35015804000
+MAP	READ	6769256000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9296829
+MAP	VALUE_BYTE_COUNT	133184733
+MAP	MAP	23608596000
+MAP	WRITE	9052770000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1400059000
+MAP	SERIALIZE_OUTPUT	2484015000
+MAP	MAP_MEM	227667352
+SPILL	SORT_AND_SPILL	69534856433
+SPILL	QUICK_SORT	2370342000
+SPILL	SORT_COUNT	1032981
+SPILL	COMBINE	0
+SPILL	WRITE	67164514433
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	148857282
+SPILL	COMPRESS_BYTE_COUNT	46260375
+MERGE	TOTAL_MERGE	1766000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	105179195433
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.5	0
+MAP	STARTUP_MEM	213536232
+MAP	SETUP	3661000
+MAP	SETUP_MEM	214836112
+MAP	CLEANUP	92000
+MAP	CLEANUP_MEM	227681280
+MAP	TOTAL_RUN	50188235000
+MAP	READ	14714588000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9296334
+MAP	VALUE_BYTE_COUNT	133184813
+MAP	MAP	27572531000
+MAP	WRITE	9852453000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1422476000
+MAP	SERIALIZE_OUTPUT	2783820000
+MAP	MAP_MEM	227681280
+SPILL	SORT_AND_SPILL	66653491000
+SPILL	QUICK_SORT	2798552000
+SPILL	SORT_COUNT	1032926
+SPILL	COMBINE	0
+SPILL	WRITE	63854939000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	148857765
+SPILL	COMPRESS_BYTE_COUNT	46258105
+MERGE	TOTAL_MERGE	1654000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	120995214000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.6	0
+MAP	STARTUP_MEM	212659352
+MAP	SETUP	3261000
+MAP	SETUP_MEM	212659352
+MAP	CLEANUP	104000
+MAP	CLEANUP_MEM	226233424
+MAP	TOTAL_RUN	34187279385
+MAP	READ	4824392000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	8443463
+MAP	VALUE_BYTE_COUNT	133184529
+MAP	MAP	21937295000
+MAP	WRITE	6602225000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1153715000
+MAP	SERIALIZE_OUTPUT	2801741000
+MAP	MAP_MEM	226233424
+SPILL	SORT_AND_SPILL	63738208000
+SPILL	QUICK_SORT	3426705000
+SPILL	SORT_COUNT	1033206
+SPILL	COMBINE	0
+SPILL	WRITE	60311503000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	148859223
+SPILL	COMPRESS_BYTE_COUNT	46273935
+MERGE	TOTAL_MERGE	11286000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	98484748385
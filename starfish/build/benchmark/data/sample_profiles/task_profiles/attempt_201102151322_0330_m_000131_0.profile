@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.6	0
+MAP	STARTUP_MEM	218423632
+MAP	SETUP	3392000
+MAP	SETUP_MEM	219732488
+MAP	CLEANUP	86000
+MAP	CLEANUP_MEM	226087640
+MAP	TOTAL_RUN	23998928000
+MAP	READ	3538931000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9297405
+MAP	VALUE_BYTE_COUNT	133184750
+MAP	MAP	16842342000
+MAP	WRITE	5593539000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	943064000
+MAP	SERIALIZE_OUTPUT	2254283000
+MAP	MAP_MEM	226649800
+SPILL	SORT_AND_SPILL	31556356000
+SPILL	QUICK_SORT	1530893000
+SPILL	SORT_COUNT	1033045
+SPILL	COMBINE	0
+SPILL	WRITE	30025463000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	148858270
+SPILL	COMPRESS_BYTE_COUNT	46269582
+MERGE	TOTAL_MERGE	1660000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	67774135000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.6	0
+MAP	STARTUP_MEM	212689344
+MAP	SETUP	3462000
+MAP	SETUP_MEM	213989248
+MAP	CLEANUP	103000
+MAP	CLEANUP_MEM	227859768
+MAP	TOTAL_RUN	49480224000
+MAP	READ	8284084000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9297045
+MAP	VALUE_BYTE_COUNT	133184689
+MAP	MAP	36738199000
+MAP	WRITE	16238940000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	3203362000
+MAP	SERIALIZE_OUTPUT	8605720000
+MAP	MAP_MEM	227859768
+SPILL	SORT_AND_SPILL	43961127000
+SPILL	QUICK_SORT	2624405000
+SPILL	SORT_COUNT	1033005
+SPILL	COMBINE	0
+SPILL	WRITE	41336722000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	148857930
+SPILL	COMPRESS_BYTE_COUNT	46265562
+MERGE	TOTAL_MERGE	1772000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	94731487000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.6	0
+MAP	STARTUP_MEM	212672832
+MAP	SETUP	3875000
+MAP	SETUP_MEM	213964968
+MAP	CLEANUP	107000
+MAP	CLEANUP_MEM	229116792
+MAP	TOTAL_RUN	33990700000
+MAP	READ	9974122000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9298710
+MAP	VALUE_BYTE_COUNT	133184572
+MAP	MAP	19283917000
+MAP	WRITE	6094783000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1033620000
+MAP	SERIALIZE_OUTPUT	2433415000
+MAP	MAP_MEM	229116792
+SPILL	SORT_AND_SPILL	68966822073
+SPILL	QUICK_SORT	6109380000
+SPILL	SORT_COUNT	1033190
+SPILL	COMBINE	0
+SPILL	WRITE	62857442073
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	148858761
+SPILL	COMPRESS_BYTE_COUNT	46267320
+MERGE	TOTAL_MERGE	424266000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	108825799073
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.6	0
+MAP	STARTUP_MEM	212675256
+MAP	SETUP	5561000
+MAP	SETUP_MEM	213961072
+MAP	CLEANUP	110000
+MAP	CLEANUP_MEM	228317216
+MAP	TOTAL_RUN	30551423000
+MAP	READ	4171621000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9296856
+MAP	VALUE_BYTE_COUNT	133184801
+MAP	MAP	21969544000
+MAP	WRITE	7972993000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	897083000
+MAP	SERIALIZE_OUTPUT	3649405000
+MAP	MAP_MEM	228317216
+SPILL	SORT_AND_SPILL	34012863000
+SPILL	QUICK_SORT	1676132000
+SPILL	SORT_COUNT	1032984
+SPILL	COMBINE	0
+SPILL	WRITE	32336731000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	148857891
+SPILL	COMPRESS_BYTE_COUNT	46259801
+MERGE	TOTAL_MERGE	21829000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	66217570864
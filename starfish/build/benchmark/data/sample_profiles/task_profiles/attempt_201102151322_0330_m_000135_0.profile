@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.7	0
+MAP	STARTUP_MEM	213527904
+MAP	SETUP	4099000
+MAP	SETUP_MEM	213527904
+MAP	CLEANUP	115000
+MAP	CLEANUP_MEM	226827312
+MAP	TOTAL_RUN	32948792000
+MAP	READ	5555176000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	8442434
+MAP	VALUE_BYTE_COUNT	133184664
+MAP	MAP	21842643000
+MAP	WRITE	8403578000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1655213000
+MAP	SERIALIZE_OUTPUT	2825937000
+MAP	MAP_MEM	226827312
+SPILL	SORT_AND_SPILL	62534685152
+SPILL	QUICK_SORT	2575048152
+SPILL	SORT_COUNT	1033072
+SPILL	COMBINE	0
+SPILL	WRITE	59959637000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	148858276
+SPILL	COMPRESS_BYTE_COUNT	46266422
+MERGE	TOTAL_MERGE	1821000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	97088747152
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.7	0
+MAP	STARTUP_MEM	213530984
+MAP	SETUP	5287000
+MAP	SETUP_MEM	214825600
+MAP	CLEANUP	101000
+MAP	CLEANUP_MEM	226297616
+MAP	TOTAL_RUN	28879114000
+MAP	READ	4329332000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9297900
+MAP	VALUE_BYTE_COUNT	133184710
+MAP	MAP	20475796000
+MAP	WRITE	8423465000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	2790949000
+MAP	SERIALIZE_OUTPUT	2051816000
+MAP	MAP_MEM	226297616
+SPILL	SORT_AND_SPILL	45853733000
+SPILL	QUICK_SORT	2638494000
+SPILL	SORT_COUNT	1033100
+SPILL	COMBINE	0
+SPILL	WRITE	43215239000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	148859377
+SPILL	COMPRESS_BYTE_COUNT	46265979
+MERGE	TOTAL_MERGE	1619000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	75255063000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.7	0
+MAP	STARTUP_MEM	212675240
+MAP	SETUP	5993000
+MAP	SETUP_MEM	213961056
+MAP	CLEANUP	95000
+MAP	CLEANUP_MEM	228266928
+MAP	TOTAL_RUN	32361887000
+MAP	READ	3880491000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9296982
+MAP	VALUE_BYTE_COUNT	133184747
+MAP	MAP	24014844000
+MAP	WRITE	10071069000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	2110931000
+MAP	SERIALIZE_OUTPUT	3156463000
+MAP	MAP_MEM	228266928
+SPILL	SORT_AND_SPILL	35198419000
+SPILL	QUICK_SORT	2006161000
+SPILL	SORT_COUNT	1032998
+SPILL	COMBINE	0
+SPILL	WRITE	33192258000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	148858476
+SPILL	COMPRESS_BYTE_COUNT	46267558
+MERGE	TOTAL_MERGE	1765000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	69806800000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.7	0
+MAP	STARTUP_MEM	213544728
+MAP	SETUP	25779000
+MAP	SETUP_MEM	214863016
+MAP	CLEANUP	98000
+MAP	CLEANUP_MEM	227671952
+MAP	TOTAL_RUN	41287275000
+MAP	READ	8945703000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9298872
+MAP	VALUE_BYTE_COUNT	133184472
+MAP	MAP	25057397000
+MAP	WRITE	8738978000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	941952000
+MAP	SERIALIZE_OUTPUT	2256957000
+MAP	MAP_MEM	227671952
+SPILL	SORT_AND_SPILL	58854812000
+SPILL	QUICK_SORT	1742936000
+SPILL	SORT_COUNT	1033208
+SPILL	COMBINE	0
+SPILL	WRITE	57111876000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	148858778
+SPILL	COMPRESS_BYTE_COUNT	46271413
+MERGE	TOTAL_MERGE	1904000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	100564347000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.7	0
+MAP	STARTUP_MEM	212678432
+MAP	SETUP	4120000
+MAP	SETUP_MEM	214831728
+MAP	CLEANUP	96000
+MAP	CLEANUP_MEM	226788112
+MAP	TOTAL_RUN	26419219000
+MAP	READ	3562141000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9296595
+MAP	VALUE_BYTE_COUNT	133184807
+MAP	MAP	18929254000
+MAP	WRITE	5762087000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1008578000
+MAP	SERIALIZE_OUTPUT	2395646000
+MAP	MAP_MEM	226788112
+SPILL	SORT_AND_SPILL	41824983000
+SPILL	QUICK_SORT	1669759000
+SPILL	SORT_COUNT	1032955
+SPILL	COMBINE	0
+SPILL	WRITE	40155224000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	148857098
+SPILL	COMPRESS_BYTE_COUNT	46265485
+MERGE	TOTAL_MERGE	1850000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	68991460000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.8	0
+MAP	STARTUP_MEM	212676296
+MAP	SETUP	8992000
+MAP	SETUP_MEM	213531936
+MAP	CLEANUP	94000
+MAP	CLEANUP_MEM	227627512
+MAP	TOTAL_RUN	56692662371
+MAP	READ	9027835000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	8442296
+MAP	VALUE_BYTE_COUNT	133184717
+MAP	MAP	37689088371
+MAP	WRITE	17125196000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	3646340000
+MAP	SERIALIZE_OUTPUT	3873931000
+MAP	MAP_MEM	227627512
+SPILL	SORT_AND_SPILL	53786982372
+SPILL	QUICK_SORT	4509082000
+SPILL	SORT_COUNT	1033054
+SPILL	COMBINE	0
+SPILL	WRITE	49277900372
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	148858747
+SPILL	COMPRESS_BYTE_COUNT	46266568
+MERGE	TOTAL_MERGE	1873000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	111487652743
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.8	0
+MAP	STARTUP_MEM	215864936
+MAP	SETUP	15162000
+MAP	SETUP_MEM	217179400
+MAP	CLEANUP	98000
+MAP	CLEANUP_MEM	227599784
+MAP	TOTAL_RUN	38314851000
+MAP	READ	6405384000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9296649
+MAP	VALUE_BYTE_COUNT	133184833
+MAP	MAP	25835916000
+MAP	WRITE	10828932000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1859650000
+MAP	SERIALIZE_OUTPUT	6417517000
+MAP	MAP_MEM	227599784
+SPILL	SORT_AND_SPILL	52323757000
+SPILL	QUICK_SORT	2188539000
+SPILL	SORT_COUNT	1032961
+SPILL	COMBINE	0
+SPILL	WRITE	50135218000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	148857879
+SPILL	COMPRESS_BYTE_COUNT	46264180
+MERGE	TOTAL_MERGE	11623000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	97308260000
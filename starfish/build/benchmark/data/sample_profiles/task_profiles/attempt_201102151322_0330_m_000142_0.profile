@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.8	0
+MAP	STARTUP_MEM	213536568
+MAP	SETUP	6116000
+MAP	SETUP_MEM	214836736
+MAP	CLEANUP	91000
+MAP	CLEANUP_MEM	228218616
+MAP	TOTAL_RUN	32642871000
+MAP	READ	5798478000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9298062
+MAP	VALUE_BYTE_COUNT	133184614
+MAP	MAP	20374374000
+MAP	WRITE	7872470000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1427733000
+MAP	SERIALIZE_OUTPUT	2214936000
+MAP	MAP_MEM	228218616
+SPILL	SORT_AND_SPILL	64729129000
+SPILL	QUICK_SORT	1565738000
+SPILL	SORT_COUNT	1033118
+SPILL	COMBINE	0
+SPILL	WRITE	63163391000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	148857160
+SPILL	COMPRESS_BYTE_COUNT	46263477
+MERGE	TOTAL_MERGE	1619000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	98745008000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.8	0
+MAP	STARTUP_MEM	212675568
+MAP	SETUP	16009000
+MAP	SETUP_MEM	214826064
+MAP	CLEANUP	105000
+MAP	CLEANUP_MEM	229733736
+MAP	TOTAL_RUN	37525239000
+MAP	READ	4934699000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9298719
+MAP	VALUE_BYTE_COUNT	133184475
+MAP	MAP	25860948000
+MAP	WRITE	8507276000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1407748000
+MAP	SERIALIZE_OUTPUT	4545768000
+MAP	MAP_MEM	229733736
+SPILL	SORT_AND_SPILL	53669116000
+SPILL	QUICK_SORT	1925536000
+SPILL	SORT_COUNT	1033191
+SPILL	COMBINE	0
+SPILL	WRITE	51743580000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	148859560
+SPILL	COMPRESS_BYTE_COUNT	46273255
+MERGE	TOTAL_MERGE	1758000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	91971650000
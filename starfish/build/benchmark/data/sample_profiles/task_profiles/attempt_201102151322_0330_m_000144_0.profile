@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.8	0
+MAP	STARTUP_MEM	213542480
+MAP	SETUP	20227000
+MAP	SETUP_MEM	214858552
+MAP	CLEANUP	95000
+MAP	CLEANUP_MEM	227883656
+MAP	TOTAL_RUN	29566510000
+MAP	READ	4634930000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9297018
+MAP	VALUE_BYTE_COUNT	133184682
+MAP	MAP	20027340000
+MAP	WRITE	7074475000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1275795000
+MAP	SERIALIZE_OUTPUT	2598630000
+MAP	MAP_MEM	227883656
+SPILL	SORT_AND_SPILL	52802956000
+SPILL	QUICK_SORT	1986118000
+SPILL	SORT_COUNT	1033002
+SPILL	COMBINE	0
+SPILL	WRITE	50816838000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	148858246
+SPILL	COMPRESS_BYTE_COUNT	46264243
+MERGE	TOTAL_MERGE	1730000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	83010541000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.9	0
+MAP	STARTUP_MEM	213535432
+MAP	SETUP	3331000
+MAP	SETUP_MEM	213535432
+MAP	CLEANUP	101000
+MAP	CLEANUP_MEM	228210768
+MAP	TOTAL_RUN	28388606000
+MAP	READ	4320697000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	8441591
+MAP	VALUE_BYTE_COUNT	133184790
+MAP	MAP	19699387000
+MAP	WRITE	5793614000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	942253000
+MAP	SERIALIZE_OUTPUT	2099338000
+MAP	MAP_MEM	228210768
+SPILL	SORT_AND_SPILL	45113155000
+SPILL	QUICK_SORT	3998710000
+SPILL	SORT_COUNT	1032967
+SPILL	COMBINE	0
+SPILL	WRITE	41114445000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	148858076
+SPILL	COMPRESS_BYTE_COUNT	46261518
+MERGE	TOTAL_MERGE	1863000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	73927949000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.9	0
+MAP	STARTUP_MEM	212667920
+MAP	SETUP	3592000
+MAP	SETUP_MEM	213951344
+MAP	CLEANUP	96000
+MAP	CLEANUP_MEM	227695536
+MAP	TOTAL_RUN	36527909871
+MAP	READ	7744103000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9297234
+MAP	VALUE_BYTE_COUNT	133184710
+MAP	MAP	23487259871
+MAP	WRITE	9272659000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1288773000
+MAP	SERIALIZE_OUTPUT	3131669000
+MAP	MAP_MEM	228257696
+SPILL	SORT_AND_SPILL	55546329436
+SPILL	QUICK_SORT	3194859000
+SPILL	SORT_COUNT	1033026
+SPILL	COMBINE	0
+SPILL	WRITE	52351470436
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	148858559
+SPILL	COMPRESS_BYTE_COUNT	46263250
+MERGE	TOTAL_MERGE	1628000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	92883254307
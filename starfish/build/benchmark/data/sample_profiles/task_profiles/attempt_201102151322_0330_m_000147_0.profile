@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.9	0
+MAP	STARTUP_MEM	212691256
+MAP	SETUP	5409000
+MAP	SETUP_MEM	214002776
+MAP	CLEANUP	98000
+MAP	CLEANUP_MEM	228264152
+MAP	TOTAL_RUN	52900491000
+MAP	READ	9185919000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9298512
+MAP	VALUE_BYTE_COUNT	133184555
+MAP	MAP	36583031000
+MAP	WRITE	18229080000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	4175560000
+MAP	SERIALIZE_OUTPUT	3568673000
+MAP	MAP_MEM	228264152
+SPILL	SORT_AND_SPILL	46372854436
+SPILL	QUICK_SORT	3361215000
+SPILL	SORT_COUNT	1033168
+SPILL	COMBINE	0
+SPILL	WRITE	43011639436
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	148858377
+SPILL	COMPRESS_BYTE_COUNT	46267238
+MERGE	TOTAL_MERGE	1612000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	99755347436
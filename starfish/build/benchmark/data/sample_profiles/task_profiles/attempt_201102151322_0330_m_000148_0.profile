@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.9	0
+MAP	STARTUP_MEM	213540248
+MAP	SETUP	3794000
+MAP	SETUP_MEM	214854080
+MAP	CLEANUP	96000
+MAP	CLEANUP_MEM	227730992
+MAP	TOTAL_RUN	33767926000
+MAP	READ	4473702000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9297387
+MAP	VALUE_BYTE_COUNT	133184766
+MAP	MAP	24775221000
+MAP	WRITE	6868517000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1000195000
+MAP	SERIALIZE_OUTPUT	2202526000
+MAP	MAP_MEM	228293152
+SPILL	SORT_AND_SPILL	33700400000
+SPILL	QUICK_SORT	1740215000
+SPILL	SORT_COUNT	1033043
+SPILL	COMBINE	0
+SPILL	WRITE	31960185000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	148857971
+SPILL	COMPRESS_BYTE_COUNT	46267728
+MERGE	TOTAL_MERGE	1778000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	70371679000
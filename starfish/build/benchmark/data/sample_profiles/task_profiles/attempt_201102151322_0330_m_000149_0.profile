@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.9	0
+MAP	STARTUP_MEM	212676176
+MAP	SETUP	5658000
+MAP	SETUP_MEM	213971656
+MAP	CLEANUP	97000
+MAP	CLEANUP_MEM	228297440
+MAP	TOTAL_RUN	41226760000
+MAP	READ	6998833000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9297648
+MAP	VALUE_BYTE_COUNT	133184552
+MAP	MAP	26574580000
+MAP	WRITE	10258895000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1545221000
+MAP	SERIALIZE_OUTPUT	5511943000
+MAP	MAP_MEM	228297440
+SPILL	SORT_AND_SPILL	46123900000
+SPILL	QUICK_SORT	2269255000
+SPILL	SORT_COUNT	1033072
+SPILL	COMBINE	0
+SPILL	WRITE	43854645000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	148857716
+SPILL	COMPRESS_BYTE_COUNT	46270229
+MERGE	TOTAL_MERGE	1781000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	87904239000
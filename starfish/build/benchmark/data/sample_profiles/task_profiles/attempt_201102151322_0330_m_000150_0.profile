@@ -0,0 +1,43 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/orders/orders.tbl.1	0
+MAP	STARTUP_MEM	213531416
+MAP	SETUP	3418000
+MAP	SETUP_MEM	213531416
+MAP	CLEANUP	132000
+MAP	CLEANUP_MEM	224879360
+MAP	TOTAL_RUN	32578220000
+MAP	READ	4896137000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9528846
+MAP	VALUE_BYTE_COUNT	133051522
+MAP	MAP	22995827000
+MAP	WRITE	8158013000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1368035000
+MAP	SERIALIZE_OUTPUT	2590259000
+MAP	MAP_MEM	224879360
+SPILL	SORT_AND_SPILL	27748731000
+SPILL	QUICK_SORT	2948347000
+SPILL	SORT_COUNT	1048576
+SPILL	COMBINE	0
+SPILL	WRITE	24800384000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	133587057
+SPILL	COMPRESS_BYTE_COUNT	42386104
+SPILL	SORT_AND_SPILL	2849802000
+SPILL	QUICK_SORT	144999000
+SPILL	SORT_COUNT	117635
+SPILL	COMBINE	0
+SPILL	WRITE	2704803000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	15049230
+SPILL	COMPRESS_BYTE_COUNT	4771668
+MERGE	TOTAL_MERGE	43221742000
+MERGE	READ_WRITE	43024719000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	105646905000
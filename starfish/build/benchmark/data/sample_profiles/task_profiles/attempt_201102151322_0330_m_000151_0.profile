@@ -0,0 +1,43 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/orders/orders.tbl.10	0
+MAP	STARTUP_MEM	213540880
+MAP	SETUP	3503000
+MAP	SETUP_MEM	213540880
+MAP	CLEANUP	79000
+MAP	CLEANUP_MEM	217066768
+MAP	TOTAL_RUN	49735549209
+MAP	READ	7713753000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9433651
+MAP	VALUE_BYTE_COUNT	133063364
+MAP	MAP	34852710209
+MAP	WRITE	13786182000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1484387000
+MAP	SERIALIZE_OUTPUT	5221609000
+MAP	MAP_MEM	217066768
+SPILL	SORT_AND_SPILL	45504626123
+SPILL	QUICK_SORT	2483310000
+SPILL	SORT_COUNT	1048576
+SPILL	COMBINE	0
+SPILL	WRITE	43021316123
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136224346
+SPILL	COMPRESS_BYTE_COUNT	42443198
+SPILL	SORT_AND_SPILL	2684883000
+SPILL	QUICK_SORT	125257000
+SPILL	SORT_COUNT	105791
+SPILL	COMBINE	0
+SPILL	WRITE	2559626000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	13740904
+SPILL	COMPRESS_BYTE_COUNT	4310753
+MERGE	TOTAL_MERGE	43414775000
+MERGE	READ_WRITE	41564146000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	135008899332
@@ -0,0 +1,43 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/orders/orders.tbl.11	0
+MAP	STARTUP_MEM	213553448
+MAP	SETUP	3305000
+MAP	SETUP_MEM	213553448
+MAP	CLEANUP	106000
+MAP	CLEANUP_MEM	216323320
+MAP	TOTAL_RUN	59294898000
+MAP	READ	8313924000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9429698
+MAP	VALUE_BYTE_COUNT	133063925
+MAP	MAP	43208895000
+MAP	WRITE	20230626000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	2612045000
+MAP	SERIALIZE_OUTPUT	6786634000
+MAP	MAP_MEM	216323320
+SPILL	SORT_AND_SPILL	58542543000
+SPILL	QUICK_SORT	5006863000
+SPILL	SORT_COUNT	1048576
+SPILL	COMBINE	0
+SPILL	WRITE	53535680000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136268695
+SPILL	COMPRESS_BYTE_COUNT	42451767
+SPILL	SORT_AND_SPILL	5204055000
+SPILL	QUICK_SORT	122807000
+SPILL	SORT_COUNT	105320
+SPILL	COMBINE	0
+SPILL	WRITE	5081248000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	13691814
+SPILL	COMPRESS_BYTE_COUNT	4293989
+MERGE	TOTAL_MERGE	46574098000
+MERGE	READ_WRITE	46495804000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	161445152000
@@ -0,0 +1,43 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/orders/orders.tbl.12	0
+MAP	STARTUP_MEM	212684272
+MAP	SETUP	6460000
+MAP	SETUP_MEM	212684272
+MAP	CLEANUP	103000
+MAP	CLEANUP_MEM	216332560
+MAP	TOTAL_RUN	35462703000
+MAP	READ	5502735000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9430163
+MAP	VALUE_BYTE_COUNT	133063831
+MAP	MAP	23756962000
+MAP	WRITE	6602801000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1228797000
+MAP	SERIALIZE_OUTPUT	2598769000
+MAP	MAP_MEM	216332560
+SPILL	SORT_AND_SPILL	36678070000
+SPILL	QUICK_SORT	3285378000
+SPILL	SORT_COUNT	1048576
+SPILL	COMBINE	0
+SPILL	WRITE	33392692000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136272027
+SPILL	COMPRESS_BYTE_COUNT	42451709
+SPILL	SORT_AND_SPILL	3753455000
+SPILL	QUICK_SORT	153376000
+SPILL	SORT_COUNT	105358
+SPILL	COMBINE	0
+SPILL	WRITE	3600079000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	13689963
+SPILL	COMPRESS_BYTE_COUNT	4294186
+MERGE	TOTAL_MERGE	38614698000
+MERGE	READ_WRITE	38540625000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	110440056000
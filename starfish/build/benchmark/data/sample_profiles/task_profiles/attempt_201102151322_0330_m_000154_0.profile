@@ -0,0 +1,43 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/orders/orders.tbl.13	0
+MAP	STARTUP_MEM	212669720
+MAP	SETUP	3460000
+MAP	SETUP_MEM	212669720
+MAP	CLEANUP	134000
+MAP	CLEANUP_MEM	216275472
+MAP	TOTAL_RUN	36372707000
+MAP	READ	7176028000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9430511
+MAP	VALUE_BYTE_COUNT	133063805
+MAP	MAP	23663876000
+MAP	WRITE	7642634000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1425193000
+MAP	SERIALIZE_OUTPUT	2382764000
+MAP	MAP_MEM	216275472
+SPILL	SORT_AND_SPILL	63704626000
+SPILL	QUICK_SORT	4402798000
+SPILL	SORT_COUNT	1048576
+SPILL	COMBINE	0
+SPILL	WRITE	59301828000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136268725
+SPILL	COMPRESS_BYTE_COUNT	42450006
+SPILL	SORT_AND_SPILL	3833698000
+SPILL	QUICK_SORT	122002000
+SPILL	SORT_COUNT	105415
+SPILL	COMBINE	0
+SPILL	WRITE	3711696000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	13694749
+SPILL	COMPRESS_BYTE_COUNT	4295698
+MERGE	TOTAL_MERGE	47168726848
+MERGE	READ_WRITE	46618188848
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	148530781848
@@ -0,0 +1,43 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/orders/orders.tbl.14	0
+MAP	STARTUP_MEM	213523520
+MAP	SETUP	3331000
+MAP	SETUP_MEM	213523520
+MAP	CLEANUP	70000
+MAP	CLEANUP_MEM	217995592
+MAP	TOTAL_RUN	32643052000
+MAP	READ	6244467000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9431618
+MAP	VALUE_BYTE_COUNT	133063667
+MAP	MAP	21132164000
+MAP	WRITE	7023051000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1393096000
+MAP	SERIALIZE_OUTPUT	3096774000
+MAP	MAP_MEM	218557752
+SPILL	SORT_AND_SPILL	43946788000
+SPILL	QUICK_SORT	3376189000
+SPILL	SORT_COUNT	1048576
+SPILL	COMBINE	0
+SPILL	WRITE	40570599000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136245299
+SPILL	COMPRESS_BYTE_COUNT	42446480
+SPILL	SORT_AND_SPILL	2618850000
+SPILL	QUICK_SORT	132383000
+SPILL	SORT_COUNT	105553
+SPILL	COMBINE	0
+SPILL	WRITE	2486467000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	13717667
+SPILL	COMPRESS_BYTE_COUNT	4303482
+MERGE	TOTAL_MERGE	29380178000
+MERGE	READ_WRITE	29303128000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	103219751000
@@ -0,0 +1,43 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/orders/orders.tbl.15	0
+MAP	STARTUP_MEM	212659832
+MAP	SETUP	3390000
+MAP	SETUP_MEM	212659832
+MAP	CLEANUP	91000
+MAP	CLEANUP_MEM	216583736
+MAP	TOTAL_RUN	55526892000
+MAP	READ	12778321000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9430582
+MAP	VALUE_BYTE_COUNT	133063810
+MAP	MAP	36032816000
+MAP	WRITE	15902713000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	2419716000
+MAP	SERIALIZE_OUTPUT	7059438000
+MAP	MAP_MEM	216583736
+SPILL	SORT_AND_SPILL	40773910000
+SPILL	QUICK_SORT	7806954000
+SPILL	SORT_COUNT	1048576
+SPILL	COMBINE	0
+SPILL	WRITE	32966956000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136263036
+SPILL	COMPRESS_BYTE_COUNT	42448286
+SPILL	SORT_AND_SPILL	11002400000
+SPILL	QUICK_SORT	122987000
+SPILL	SORT_COUNT	105425
+SPILL	COMBINE	0
+SPILL	WRITE	10879413000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	13699645
+SPILL	COMPRESS_BYTE_COUNT	4298292
+MERGE	TOTAL_MERGE	42537248000
+MERGE	READ_WRITE	42136913000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	139837974000
@@ -0,0 +1,43 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/orders/orders.tbl.16	0
+MAP	STARTUP_MEM	212688952
+MAP	SETUP	3366000
+MAP	SETUP_MEM	212688952
+MAP	CLEANUP	113000
+MAP	CLEANUP_MEM	214883024
+MAP	TOTAL_RUN	32227194000
+MAP	READ	6103119000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9432003
+MAP	VALUE_BYTE_COUNT	133063616
+MAP	MAP	22270212000
+MAP	WRITE	7424473000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1325324000
+MAP	SERIALIZE_OUTPUT	2598078000
+MAP	MAP_MEM	214883024
+SPILL	SORT_AND_SPILL	36909408000
+SPILL	QUICK_SORT	3551991000
+SPILL	SORT_COUNT	1048576
+SPILL	COMBINE	0
+SPILL	WRITE	33357417000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136245369
+SPILL	COMPRESS_BYTE_COUNT	42445448
+SPILL	SORT_AND_SPILL	6779036000
+SPILL	QUICK_SORT	125787000
+SPILL	SORT_COUNT	105589
+SPILL	COMBINE	0
+SPILL	WRITE	6653249000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	13718174
+SPILL	COMPRESS_BYTE_COUNT	4303991
+MERGE	TOTAL_MERGE	43160450000
+MERGE	READ_WRITE	43086918000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	117237428000
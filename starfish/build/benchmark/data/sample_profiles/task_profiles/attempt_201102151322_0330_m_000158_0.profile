@@ -0,0 +1,43 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/orders/orders.tbl.17	0
+MAP	STARTUP_MEM	213557376
+MAP	SETUP	3363000
+MAP	SETUP_MEM	213557376
+MAP	CLEANUP	92000
+MAP	CLEANUP_MEM	215370720
+MAP	TOTAL_RUN	41114914000
+MAP	READ	8396677000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9417996
+MAP	VALUE_BYTE_COUNT	133065203
+MAP	MAP	25900976000
+MAP	WRITE	11868407000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	2484510000
+MAP	SERIALIZE_OUTPUT	2496321000
+MAP	MAP_MEM	215370720
+SPILL	SORT_AND_SPILL	35961304000
+SPILL	QUICK_SORT	3826889000
+SPILL	SORT_COUNT	1048576
+SPILL	COMBINE	0
+SPILL	WRITE	32134415000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136374264
+SPILL	COMPRESS_BYTE_COUNT	42469971
+SPILL	SORT_AND_SPILL	2636008000
+SPILL	QUICK_SORT	157816000
+SPILL	SORT_COUNT	104002
+SPILL	COMBINE	0
+SPILL	WRITE	2478192000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	13726615
+SPILL	COMPRESS_BYTE_COUNT	4267300
+MERGE	TOTAL_MERGE	34633056000
+MERGE	READ_WRITE	34534055000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	105783133000
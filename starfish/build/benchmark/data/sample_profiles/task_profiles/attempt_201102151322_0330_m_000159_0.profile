@@ -0,0 +1,43 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/orders/orders.tbl.18	0
+MAP	STARTUP_MEM	213540304
+MAP	SETUP	11885000
+MAP	SETUP_MEM	213540304
+MAP	CLEANUP	135000
+MAP	CLEANUP_MEM	273840064
+MAP	TOTAL_RUN	36329557000
+MAP	READ	7346767000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9351485
+MAP	VALUE_BYTE_COUNT	133073426
+MAP	MAP	24855901000
+MAP	WRITE	8223833000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1041527000
+MAP	SERIALIZE_OUTPUT	2493149000
+MAP	MAP_MEM	273840064
+SPILL	SORT_AND_SPILL	48237050000
+SPILL	QUICK_SORT	3570577000
+SPILL	SORT_COUNT	1048576
+SPILL	COMBINE	0
+SPILL	WRITE	44666473000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	138382459
+SPILL	COMPRESS_BYTE_COUNT	42714863
+SPILL	SORT_AND_SPILL	2492235000
+SPILL	QUICK_SORT	114601000
+SPILL	SORT_COUNT	95730
+SPILL	COMBINE	0
+SPILL	WRITE	2377634000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12629945
+SPILL	COMPRESS_BYTE_COUNT	3927458
+MERGE	TOTAL_MERGE	52112851000
+MERGE	READ_WRITE	51625943000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	135960152000
@@ -0,0 +1,43 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/orders/orders.tbl.19	0
+MAP	STARTUP_MEM	213547352
+MAP	SETUP	3532000
+MAP	SETUP_MEM	213547352
+MAP	CLEANUP	97000
+MAP	CLEANUP_MEM	276049384
+MAP	TOTAL_RUN	44819125000
+MAP	READ	8590191000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9347913
+MAP	VALUE_BYTE_COUNT	133073948
+MAP	MAP	27346617000
+MAP	WRITE	11045031000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	2005830000
+MAP	SERIALIZE_OUTPUT	2929073000
+MAP	MAP_MEM	276049384
+SPILL	SORT_AND_SPILL	45963885848
+SPILL	QUICK_SORT	3994151000
+SPILL	SORT_COUNT	1048576
+SPILL	COMBINE	0
+SPILL	WRITE	41969734848
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	138429504
+SPILL	COMPRESS_BYTE_COUNT	42730160
+SPILL	SORT_AND_SPILL	2534726000
+SPILL	QUICK_SORT	118206000
+SPILL	SORT_COUNT	95296
+SPILL	COMBINE	0
+SPILL	WRITE	2416520000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12578552
+SPILL	COMPRESS_BYTE_COUNT	3910120
+MERGE	TOTAL_MERGE	48268492152
+MERGE	READ_WRITE	47741577152
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	139756418000
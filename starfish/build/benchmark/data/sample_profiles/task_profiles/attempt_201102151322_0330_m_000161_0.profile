@@ -0,0 +1,43 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/orders/orders.tbl.2	0
+MAP	STARTUP_MEM	212687192
+MAP	SETUP	3779000
+MAP	SETUP_MEM	212687192
+MAP	CLEANUP	115000
+MAP	CLEANUP_MEM	224819344
+MAP	TOTAL_RUN	35649969000
+MAP	READ	4821315000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9500799
+MAP	VALUE_BYTE_COUNT	133055089
+MAP	MAP	24965391000
+MAP	WRITE	9430655000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1471462000
+MAP	SERIALIZE_OUTPUT	2797845000
+MAP	MAP_MEM	225381504
+SPILL	SORT_AND_SPILL	61469846371
+SPILL	QUICK_SORT	3407939000
+SPILL	SORT_COUNT	1048576
+SPILL	COMBINE	0
+SPILL	WRITE	58061907371
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	134209582
+SPILL	COMPRESS_BYTE_COUNT	42276766
+SPILL	SORT_AND_SPILL	3138911000
+SPILL	QUICK_SORT	150595000
+SPILL	SORT_COUNT	114137
+SPILL	COMBINE	0
+SPILL	WRITE	2988316000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	14838418
+SPILL	COMPRESS_BYTE_COUNT	4650203
+MERGE	TOTAL_MERGE	32925474372
+MERGE	READ_WRITE	32747478372
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	130737668743
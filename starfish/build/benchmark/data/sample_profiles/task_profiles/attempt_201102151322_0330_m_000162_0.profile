@@ -0,0 +1,43 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/orders/orders.tbl.20	0
+MAP	STARTUP_MEM	213540536
+MAP	SETUP	3401000
+MAP	SETUP_MEM	213540536
+MAP	CLEANUP	114000
+MAP	CLEANUP_MEM	276778152
+MAP	TOTAL_RUN	32071746000
+MAP	READ	6097087000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9350114
+MAP	VALUE_BYTE_COUNT	133073669
+MAP	MAP	21739396000
+MAP	WRITE	7092969000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1060939000
+MAP	SERIALIZE_OUTPUT	3116453000
+MAP	MAP_MEM	276778152
+SPILL	SORT_AND_SPILL	35932317000
+SPILL	QUICK_SORT	3226947000
+SPILL	SORT_COUNT	1048576
+SPILL	COMBINE	0
+SPILL	WRITE	32705370000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	138397118
+SPILL	COMPRESS_BYTE_COUNT	42723185
+SPILL	SORT_AND_SPILL	3368216000
+SPILL	QUICK_SORT	110953000
+SPILL	SORT_COUNT	95569
+SPILL	COMBINE	0
+SPILL	WRITE	3257263000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12614063
+SPILL	COMPRESS_BYTE_COUNT	3922308
+MERGE	TOTAL_MERGE	33353916000
+MERGE	READ_WRITE	33270972000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	100694028000
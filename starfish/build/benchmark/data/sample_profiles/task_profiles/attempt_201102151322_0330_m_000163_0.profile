@@ -0,0 +1,43 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/orders/orders.tbl.21	0
+MAP	STARTUP_MEM	213507448
+MAP	SETUP	3867000
+MAP	SETUP_MEM	213507448
+MAP	CLEANUP	86000
+MAP	CLEANUP_MEM	274489784
+MAP	TOTAL_RUN	39714428000
+MAP	READ	4097111000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9349046
+MAP	VALUE_BYTE_COUNT	133073798
+MAP	MAP	30249611000
+MAP	WRITE	9432375000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1149011000
+MAP	SERIALIZE_OUTPUT	3755332000
+MAP	MAP_MEM	274489784
+SPILL	SORT_AND_SPILL	50787490000
+SPILL	QUICK_SORT	3690152000
+SPILL	SORT_COUNT	1048576
+SPILL	COMBINE	0
+SPILL	WRITE	47097338000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	138407501
+SPILL	COMPRESS_BYTE_COUNT	42727612
+SPILL	SORT_AND_SPILL	3546913000
+SPILL	QUICK_SORT	122465000
+SPILL	SORT_COUNT	95433
+SPILL	COMBINE	0
+SPILL	WRITE	3424448000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12601304
+SPILL	COMPRESS_BYTE_COUNT	3917816
+MERGE	TOTAL_MERGE	44629914000
+MERGE	READ_WRITE	44546094000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	132863239000
@@ -0,0 +1,43 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/orders/orders.tbl.22	0
+MAP	STARTUP_MEM	213514160
+MAP	SETUP	3944000
+MAP	SETUP_MEM	213514160
+MAP	CLEANUP	83000
+MAP	CLEANUP_MEM	273832824
+MAP	TOTAL_RUN	29345539000
+MAP	READ	4203408000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9352484
+MAP	VALUE_BYTE_COUNT	133073328
+MAP	MAP	20965455000
+MAP	WRITE	6490785000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1152291000
+MAP	SERIALIZE_OUTPUT	2390369000
+MAP	MAP_MEM	273832824
+SPILL	SORT_AND_SPILL	44609439000
+SPILL	QUICK_SORT	3996001000
+SPILL	SORT_COUNT	1048576
+SPILL	COMBINE	0
+SPILL	WRITE	40613438000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	138365874
+SPILL	COMPRESS_BYTE_COUNT	42718695
+SPILL	SORT_AND_SPILL	2413986000
+SPILL	QUICK_SORT	111713000
+SPILL	SORT_COUNT	95861
+SPILL	COMBINE	0
+SPILL	WRITE	2302273000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12646070
+SPILL	COMPRESS_BYTE_COUNT	3933658
+MERGE	TOTAL_MERGE	37682298000
+MERGE	READ_WRITE	37604591000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	110379436000
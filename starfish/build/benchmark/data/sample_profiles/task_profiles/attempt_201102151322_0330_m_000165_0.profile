@@ -0,0 +1,43 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/orders/orders.tbl.23	0
+MAP	STARTUP_MEM	212677288
+MAP	SETUP	3441000
+MAP	SETUP_MEM	212677288
+MAP	CLEANUP	90000
+MAP	CLEANUP_MEM	273988360
+MAP	TOTAL_RUN	35535335000
+MAP	READ	5627947000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9351336
+MAP	VALUE_BYTE_COUNT	133073427
+MAP	MAP	23471917000
+MAP	WRITE	7572090000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1079023000
+MAP	SERIALIZE_OUTPUT	2163488000
+MAP	MAP_MEM	273988360
+SPILL	SORT_AND_SPILL	51109932000
+SPILL	QUICK_SORT	3232649000
+SPILL	SORT_COUNT	1048576
+SPILL	COMBINE	0
+SPILL	WRITE	47877283000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	138372303
+SPILL	COMPRESS_BYTE_COUNT	42720415
+SPILL	SORT_AND_SPILL	5513097000
+SPILL	QUICK_SORT	136091000
+SPILL	SORT_COUNT	95745
+SPILL	COMBINE	0
+SPILL	WRITE	5377006000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12640618
+SPILL	COMPRESS_BYTE_COUNT	3929135
+MERGE	TOTAL_MERGE	38825368000
+MERGE	READ_WRITE	38740411000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	127134957000
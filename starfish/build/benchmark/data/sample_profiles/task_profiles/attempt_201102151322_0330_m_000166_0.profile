@@ -0,0 +1,43 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/orders/orders.tbl.24	0
+MAP	STARTUP_MEM	212688480
+MAP	SETUP	4214000
+MAP	SETUP_MEM	212688480
+MAP	CLEANUP	97000
+MAP	CLEANUP_MEM	276417224
+MAP	TOTAL_RUN	62965047141
+MAP	READ	12384867000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9351610
+MAP	VALUE_BYTE_COUNT	133073432
+MAP	MAP	37217859141
+MAP	WRITE	15854667000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	3442685000
+MAP	SERIALIZE_OUTPUT	5604501000
+MAP	MAP_MEM	276417224
+SPILL	SORT_AND_SPILL	47732893292
+SPILL	QUICK_SORT	4312892000
+SPILL	SORT_COUNT	1048576
+SPILL	COMBINE	0
+SPILL	WRITE	43420001292
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	138382976
+SPILL	COMPRESS_BYTE_COUNT	42722698
+SPILL	SORT_AND_SPILL	2557936000
+SPILL	QUICK_SORT	119198000
+SPILL	SORT_COUNT	95742
+SPILL	COMBINE	0
+SPILL	WRITE	2438738000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12629139
+SPILL	COMPRESS_BYTE_COUNT	3928186
+MERGE	TOTAL_MERGE	58286890989
+MERGE	READ_WRITE	57996726989
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	161712229422
@@ -0,0 +1,43 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/orders/orders.tbl.25	0
+MAP	STARTUP_MEM	212676504
+MAP	SETUP	3320000
+MAP	SETUP_MEM	212676504
+MAP	CLEANUP	89000
+MAP	CLEANUP_MEM	274985688
+MAP	TOTAL_RUN	42370150000
+MAP	READ	11953349000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9350328
+MAP	VALUE_BYTE_COUNT	133073690
+MAP	MAP	26015846000
+MAP	WRITE	7391073000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1277356000
+MAP	SERIALIZE_OUTPUT	2878721000
+MAP	MAP_MEM	274985688
+SPILL	SORT_AND_SPILL	35494241000
+SPILL	QUICK_SORT	2475919000
+SPILL	SORT_COUNT	1048576
+SPILL	COMBINE	0
+SPILL	WRITE	33018322000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	138407655
+SPILL	COMPRESS_BYTE_COUNT	42726839
+SPILL	SORT_AND_SPILL	3192557000
+SPILL	QUICK_SORT	108873000
+SPILL	SORT_COUNT	95586
+SPILL	COMBINE	0
+SPILL	WRITE	3083684000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12603276
+SPILL	COMPRESS_BYTE_COUNT	3919308
+MERGE	TOTAL_MERGE	55134680000
+MERGE	READ_WRITE	53011945000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	129442482000
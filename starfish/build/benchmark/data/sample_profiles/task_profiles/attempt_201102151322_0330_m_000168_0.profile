@@ -0,0 +1,43 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/orders/orders.tbl.26	0
+MAP	STARTUP_MEM	213518816
+MAP	SETUP	3320000
+MAP	SETUP_MEM	213518816
+MAP	CLEANUP	105000
+MAP	CLEANUP_MEM	274785912
+MAP	TOTAL_RUN	32713133000
+MAP	READ	4363858000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9352948
+MAP	VALUE_BYTE_COUNT	133073258
+MAP	MAP	22379845000
+MAP	WRITE	7519909000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1703133000
+MAP	SERIALIZE_OUTPUT	2965833000
+MAP	MAP_MEM	274785912
+SPILL	SORT_AND_SPILL	43761077000
+SPILL	QUICK_SORT	3917573000
+SPILL	SORT_COUNT	1048576
+SPILL	COMBINE	0
+SPILL	WRITE	39843504000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	138359639
+SPILL	COMPRESS_BYTE_COUNT	42712875
+SPILL	SORT_AND_SPILL	2373066000
+SPILL	QUICK_SORT	111536000
+SPILL	SORT_COUNT	95918
+SPILL	COMBINE	0
+SPILL	WRITE	2261530000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12654290
+SPILL	COMPRESS_BYTE_COUNT	3935212
+MERGE	TOTAL_MERGE	45345571000
+MERGE	READ_WRITE	44761610000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	122877686000
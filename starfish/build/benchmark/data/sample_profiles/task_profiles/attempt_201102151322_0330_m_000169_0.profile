@@ -0,0 +1,43 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/orders/orders.tbl.27	0
+MAP	STARTUP_MEM	213558168
+MAP	SETUP	3425000
+MAP	SETUP_MEM	213558168
+MAP	CLEANUP	83000
+MAP	CLEANUP_MEM	275146400
+MAP	TOTAL_RUN	67388634209
+MAP	READ	11019355000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9349194
+MAP	VALUE_BYTE_COUNT	133073749
+MAP	MAP	39450415000
+MAP	WRITE	14632831000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	2179145000
+MAP	SERIALIZE_OUTPUT	4400025000
+MAP	MAP_MEM	275146400
+SPILL	SORT_AND_SPILL	35735180123
+SPILL	QUICK_SORT	5312419000
+SPILL	SORT_COUNT	1048576
+SPILL	COMBINE	0
+SPILL	WRITE	30422761123
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	138406656
+SPILL	COMPRESS_BYTE_COUNT	42726211
+SPILL	SORT_AND_SPILL	2563626000
+SPILL	QUICK_SORT	114300000
+SPILL	SORT_COUNT	95456
+SPILL	COMBINE	0
+SPILL	WRITE	2449326000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12603522
+SPILL	COMPRESS_BYTE_COUNT	3917869
+MERGE	TOTAL_MERGE	52882644201
+MERGE	READ_WRITE	52489834201
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	147384660533
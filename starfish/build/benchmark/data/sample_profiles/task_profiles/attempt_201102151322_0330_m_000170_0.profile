@@ -0,0 +1,43 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/orders/orders.tbl.28	0
+MAP	STARTUP_MEM	213536560
+MAP	SETUP	3489000
+MAP	SETUP_MEM	213536560
+MAP	CLEANUP	89000
+MAP	CLEANUP_MEM	275610344
+MAP	TOTAL_RUN	37947932000
+MAP	READ	4143579000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9352197
+MAP	VALUE_BYTE_COUNT	133073359
+MAP	MAP	29851974000
+MAP	WRITE	11338149000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1002689000
+MAP	SERIALIZE_OUTPUT	4612342000
+MAP	MAP_MEM	275610344
+SPILL	SORT_AND_SPILL	36024912000
+SPILL	QUICK_SORT	3032454000
+SPILL	SORT_COUNT	1048576
+SPILL	COMBINE	0
+SPILL	WRITE	32992458000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	138360600
+SPILL	COMPRESS_BYTE_COUNT	42712737
+SPILL	SORT_AND_SPILL	2738763000
+SPILL	QUICK_SORT	114955000
+SPILL	SORT_COUNT	95839
+SPILL	COMBINE	0
+SPILL	WRITE	2623808000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12652729
+SPILL	COMPRESS_BYTE_COUNT	3934387
+MERGE	TOTAL_MERGE	30262367000
+MERGE	READ_WRITE	30181490000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	98710109000
@@ -0,0 +1,43 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/orders/orders.tbl.29	0
+MAP	STARTUP_MEM	212653368
+MAP	SETUP	3905000
+MAP	SETUP_MEM	212653368
+MAP	CLEANUP	86000
+MAP	CLEANUP_MEM	274323064
+MAP	TOTAL_RUN	47466139000
+MAP	READ	6624248000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9349928
+MAP	VALUE_BYTE_COUNT	133073625
+MAP	MAP	34951286000
+MAP	WRITE	11076622000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1364866000
+MAP	SERIALIZE_OUTPUT	5525154000
+MAP	MAP_MEM	274885224
+SPILL	SORT_AND_SPILL	51630317000
+SPILL	QUICK_SORT	3299187000
+SPILL	SORT_COUNT	1048576
+SPILL	COMBINE	0
+SPILL	WRITE	48331130000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	138407342
+SPILL	COMPRESS_BYTE_COUNT	42724150
+SPILL	SORT_AND_SPILL	4426599000
+SPILL	QUICK_SORT	152052000
+SPILL	SORT_COUNT	95538
+SPILL	COMBINE	0
+SPILL	WRITE	4274547000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12603524
+SPILL	COMPRESS_BYTE_COUNT	3919109
+MERGE	TOTAL_MERGE	41802870000
+MERGE	READ_WRITE	41288886000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	138677826000
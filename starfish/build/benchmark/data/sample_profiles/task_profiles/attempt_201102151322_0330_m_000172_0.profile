@@ -0,0 +1,43 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/orders/orders.tbl.3	0
+MAP	STARTUP_MEM	213513064
+MAP	SETUP	5124000
+MAP	SETUP_MEM	213513064
+MAP	CLEANUP	97000
+MAP	CLEANUP_MEM	218273280
+MAP	TOTAL_RUN	46312895000
+MAP	READ	7377477000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9430954
+MAP	VALUE_BYTE_COUNT	133063714
+MAP	MAP	34488085000
+MAP	WRITE	12751014000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1579279000
+MAP	SERIALIZE_OUTPUT	3506400000
+MAP	MAP_MEM	218273280
+SPILL	SORT_AND_SPILL	59161071000
+SPILL	QUICK_SORT	2323719000
+SPILL	SORT_COUNT	1048576
+SPILL	COMBINE	0
+SPILL	WRITE	56837352000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136247938
+SPILL	COMPRESS_BYTE_COUNT	42444761
+SPILL	SORT_AND_SPILL	3945314000
+SPILL	QUICK_SORT	118316000
+SPILL	SORT_COUNT	105458
+SPILL	COMBINE	0
+SPILL	WRITE	3826998000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	13715625
+SPILL	COMPRESS_BYTE_COUNT	4299253
+MERGE	TOTAL_MERGE	32897010000
+MERGE	READ_WRITE	32816920000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	126169463000
@@ -0,0 +1,43 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/orders/orders.tbl.30	0
+MAP	STARTUP_MEM	213530872
+MAP	SETUP	3665000
+MAP	SETUP_MEM	213530872
+MAP	CLEANUP	88000
+MAP	CLEANUP_MEM	274640328
+MAP	TOTAL_RUN	33416887000
+MAP	READ	3825222000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9351850
+MAP	VALUE_BYTE_COUNT	133073414
+MAP	MAP	22631050000
+MAP	WRITE	6382005000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1364421000
+MAP	SERIALIZE_OUTPUT	2393555000
+MAP	MAP_MEM	274640328
+SPILL	SORT_AND_SPILL	55816011000
+SPILL	QUICK_SORT	2286715000
+SPILL	SORT_COUNT	1048576
+SPILL	COMBINE	0
+SPILL	WRITE	53529296000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	138380903
+SPILL	COMPRESS_BYTE_COUNT	42725920
+SPILL	SORT_AND_SPILL	2371090000
+SPILL	QUICK_SORT	111170000
+SPILL	SORT_COUNT	95768
+SPILL	COMBINE	0
+SPILL	WRITE	2259920000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	12631546
+SPILL	COMPRESS_BYTE_COUNT	3927835
+MERGE	TOTAL_MERGE	32812903000
+MERGE	READ_WRITE	32728425000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	116996223000
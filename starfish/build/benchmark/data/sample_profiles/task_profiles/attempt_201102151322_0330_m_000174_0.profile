@@ -0,0 +1,43 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/orders/orders.tbl.4	0
+MAP	STARTUP_MEM	213541536
+MAP	SETUP	3714000
+MAP	SETUP_MEM	213541536
+MAP	CLEANUP	74000
+MAP	CLEANUP_MEM	215750712
+MAP	TOTAL_RUN	41145128000
+MAP	READ	8626472000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9429698
+MAP	VALUE_BYTE_COUNT	133063978
+MAP	MAP	25960267000
+MAP	WRITE	7864662000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1050315000
+MAP	SERIALIZE_OUTPUT	3228280000
+MAP	MAP_MEM	216312872
+SPILL	SORT_AND_SPILL	50908650000
+SPILL	QUICK_SORT	6216331000
+SPILL	SORT_COUNT	1048576
+SPILL	COMBINE	0
+SPILL	WRITE	44692319000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136288569
+SPILL	COMPRESS_BYTE_COUNT	42453674
+SPILL	SORT_AND_SPILL	2759246000
+SPILL	QUICK_SORT	142174000
+SPILL	SORT_COUNT	105282
+SPILL	COMBINE	0
+SPILL	WRITE	2617072000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	13672994
+SPILL	COMPRESS_BYTE_COUNT	4289428
+MERGE	TOTAL_MERGE	33722957000
+MERGE	READ_WRITE	33654339000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	122775580000
@@ -0,0 +1,43 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/orders/orders.tbl.5	0
+MAP	STARTUP_MEM	213531816
+MAP	SETUP	3442000
+MAP	SETUP_MEM	213531816
+MAP	CLEANUP	75000
+MAP	CLEANUP_MEM	216334464
+MAP	TOTAL_RUN	47846132000
+MAP	READ	8190638000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9433849
+MAP	VALUE_BYTE_COUNT	133063408
+MAP	MAP	31634540000
+MAP	WRITE	12190971000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	2975283000
+MAP	SERIALIZE_OUTPUT	4490629000
+MAP	MAP_MEM	216334464
+SPILL	SORT_AND_SPILL	51266254371
+SPILL	QUICK_SORT	7419050000
+SPILL	SORT_COUNT	1048576
+SPILL	COMBINE	0
+SPILL	WRITE	43847204371
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136214458
+SPILL	COMPRESS_BYTE_COUNT	42441682
+SPILL	SORT_AND_SPILL	2724690000
+SPILL	QUICK_SORT	120502000
+SPILL	SORT_COUNT	105820
+SPILL	COMBINE	0
+SPILL	WRITE	2604188000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	13751196
+SPILL	COMPRESS_BYTE_COUNT	4314078
+MERGE	TOTAL_MERGE	33133809372
+MERGE	READ_WRITE	33033202372
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	126078294743
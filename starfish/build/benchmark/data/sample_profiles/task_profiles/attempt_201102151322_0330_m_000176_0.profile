@@ -0,0 +1,43 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/orders/orders.tbl.6	0
+MAP	STARTUP_MEM	213544224
+MAP	SETUP	3510000
+MAP	SETUP_MEM	213544224
+MAP	CLEANUP	102000
+MAP	CLEANUP_MEM	218152048
+MAP	TOTAL_RUN	38975953000
+MAP	READ	8641004000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9434949
+MAP	VALUE_BYTE_COUNT	133063253
+MAP	MAP	24941404000
+MAP	WRITE	9271549000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1426462000
+MAP	SERIALIZE_OUTPUT	3028106000
+MAP	MAP_MEM	218714208
+SPILL	SORT_AND_SPILL	49821859989
+SPILL	QUICK_SORT	4207686000
+SPILL	SORT_COUNT	1048576
+SPILL	COMBINE	0
+SPILL	WRITE	45614173989
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136213260
+SPILL	COMPRESS_BYTE_COUNT	42439747
+SPILL	SORT_AND_SPILL	3335625000
+SPILL	QUICK_SORT	295714000
+SPILL	SORT_COUNT	105928
+SPILL	COMBINE	0
+SPILL	WRITE	3039911000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	13754110
+SPILL	COMPRESS_BYTE_COUNT	4313918
+MERGE	TOTAL_MERGE	44585945597
+MERGE	READ_WRITE	43229242597
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	130893090586
@@ -0,0 +1,43 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/orders/orders.tbl.7	0
+MAP	STARTUP_MEM	213523472
+MAP	SETUP	4179000
+MAP	SETUP_MEM	213523472
+MAP	CLEANUP	90000
+MAP	CLEANUP_MEM	218278536
+MAP	TOTAL_RUN	48375174000
+MAP	READ	6480300000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9431603
+MAP	VALUE_BYTE_COUNT	133063643
+MAP	MAP	31562537000
+MAP	WRITE	10389242000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1720861000
+MAP	SERIALIZE_OUTPUT	3351717000
+MAP	MAP_MEM	218278536
+SPILL	SORT_AND_SPILL	59760039000
+SPILL	QUICK_SORT	7743005000
+SPILL	SORT_COUNT	1048576
+SPILL	COMBINE	0
+SPILL	WRITE	52017034000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136248594
+SPILL	COMPRESS_BYTE_COUNT	42451466
+SPILL	SORT_AND_SPILL	3281951000
+SPILL	QUICK_SORT	123659000
+SPILL	SORT_COUNT	105530
+SPILL	COMBINE	0
+SPILL	WRITE	3158292000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	13715411
+SPILL	COMPRESS_BYTE_COUNT	4302223
+MERGE	TOTAL_MERGE	37335486848
+MERGE	READ_WRITE	37260369848
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	139107143848
@@ -0,0 +1,43 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/orders/orders.tbl.8	0
+MAP	STARTUP_MEM	213543888
+MAP	SETUP	3539000
+MAP	SETUP_MEM	213543888
+MAP	CLEANUP	91000
+MAP	CLEANUP_MEM	216309784
+MAP	TOTAL_RUN	59287449000
+MAP	READ	7256894000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9430582
+MAP	VALUE_BYTE_COUNT	133063795
+MAP	MAP	41131062000
+MAP	WRITE	12796084000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	2552435000
+MAP	SERIALIZE_OUTPUT	3669531000
+MAP	MAP_MEM	216871944
+SPILL	SORT_AND_SPILL	35768619848
+SPILL	QUICK_SORT	2916082000
+SPILL	SORT_COUNT	1048576
+SPILL	COMBINE	0
+SPILL	WRITE	32852537848
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136271754
+SPILL	COMPRESS_BYTE_COUNT	42449416
+SPILL	SORT_AND_SPILL	2728632000
+SPILL	QUICK_SORT	121613000
+SPILL	SORT_COUNT	105411
+SPILL	COMBINE	0
+SPILL	WRITE	2607019000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	13691212
+SPILL	COMPRESS_BYTE_COUNT	4296477
+MERGE	TOTAL_MERGE	44885304000
+MERGE	READ_WRITE	44539100000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	136463575848
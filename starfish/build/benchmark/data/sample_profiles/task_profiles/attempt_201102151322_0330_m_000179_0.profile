@@ -0,0 +1,43 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/orders/orders.tbl.9	0
+MAP	STARTUP_MEM	213562616
+MAP	SETUP	3346000
+MAP	SETUP_MEM	213562616
+MAP	CLEANUP	91000
+MAP	CLEANUP_MEM	216550640
+MAP	TOTAL_RUN	55349593000
+MAP	READ	17535685000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	9432190
+MAP	VALUE_BYTE_COUNT	133063589
+MAP	MAP	30712756000
+MAP	WRITE	7532407000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1061857000
+MAP	SERIALIZE_OUTPUT	3481612000
+MAP	MAP_MEM	216550640
+SPILL	SORT_AND_SPILL	39570104217
+SPILL	QUICK_SORT	4312914000
+SPILL	SORT_COUNT	1048576
+SPILL	COMBINE	0
+SPILL	WRITE	35257190217
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136239533
+SPILL	COMPRESS_BYTE_COUNT	42444955
+SPILL	SORT_AND_SPILL	3037192000
+SPILL	QUICK_SORT	139069000
+SPILL	SORT_COUNT	105622
+SPILL	COMBINE	0
+SPILL	WRITE	2898123000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	13725129
+SPILL	COMPRESS_BYTE_COUNT	4305476
+MERGE	TOTAL_MERGE	62142592000
+MERGE	READ_WRITE	61212165000
+MERGE	READ_WRITE_COUNT	27
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	150617960217
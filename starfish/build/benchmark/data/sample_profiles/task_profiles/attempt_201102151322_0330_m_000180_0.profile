@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.19	0
+MAP	STARTUP_MEM	214354800
+MAP	SETUP	25152000
+MAP	SETUP_MEM	215651296
+MAP	CLEANUP	107000
+MAP	CLEANUP_MEM	231320752
+MAP	TOTAL_RUN	23288880000
+MAP	READ	3475297000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	7906302
+MAP	VALUE_BYTE_COUNT	114143184
+MAP	MAP	16662044000
+MAP	WRITE	5023750000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1270178000
+MAP	SERIALIZE_OUTPUT	1792842000
+MAP	MAP_MEM	231320752
+SPILL	SORT_AND_SPILL	27789003000
+SPILL	QUICK_SORT	2120965000
+SPILL	SORT_COUNT	878478
+SPILL	COMBINE	0
+SPILL	WRITE	25668038000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	128402739
+SPILL	COMPRESS_BYTE_COUNT	39409798
+MERGE	TOTAL_MERGE	1683000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	53820363000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.21	0
+MAP	STARTUP_MEM	215219640
+MAP	SETUP	24360000
+MAP	SETUP_MEM	216534904
+MAP	CLEANUP	91000
+MAP	CLEANUP_MEM	233214744
+MAP	TOTAL_RUN	34210217371
+MAP	READ	5631408371
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	7907625
+MAP	VALUE_BYTE_COUNT	114131874
+MAP	MAP	22089801000
+MAP	WRITE	8266683000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1465033000
+MAP	SERIALIZE_OUTPUT	2607223000
+MAP	MAP_MEM	233214744
+SPILL	SORT_AND_SPILL	33663998000
+SPILL	QUICK_SORT	2737271000
+SPILL	SORT_COUNT	878625
+SPILL	COMBINE	0
+SPILL	WRITE	30926727000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	128391054
+SPILL	COMPRESS_BYTE_COUNT	39420418
+MERGE	TOTAL_MERGE	1669000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	69207883371
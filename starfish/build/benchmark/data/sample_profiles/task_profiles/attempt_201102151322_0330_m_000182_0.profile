@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.30	0
+MAP	STARTUP_MEM	213542560
+MAP	SETUP	269644000
+MAP	SETUP_MEM	214858584
+MAP	CLEANUP	100000
+MAP	CLEANUP_MEM	223946120
+MAP	TOTAL_RUN	27373681000
+MAP	READ	6005090000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	7886736
+MAP	VALUE_BYTE_COUNT	113878901
+MAP	MAP	17252945000
+MAP	WRITE	6036185000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1011951000
+MAP	SERIALIZE_OUTPUT	2421018000
+MAP	MAP_MEM	223946120
+SPILL	SORT_AND_SPILL	36546056597
+SPILL	QUICK_SORT	1367834000
+SPILL	SORT_COUNT	876304
+SPILL	COMBINE	0
+SPILL	WRITE	35178222597
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	128104057
+SPILL	COMPRESS_BYTE_COUNT	39324472
+MERGE	TOTAL_MERGE	1691000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	65066407597
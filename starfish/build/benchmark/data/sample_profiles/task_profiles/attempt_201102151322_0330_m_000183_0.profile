@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.26	0
+MAP	STARTUP_MEM	215225320
+MAP	SETUP	15434000
+MAP	SETUP_MEM	216546232
+MAP	CLEANUP	99000
+MAP	CLEANUP_MEM	223431120
+MAP	TOTAL_RUN	28858499000
+MAP	READ	5906586000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	7887555
+MAP	VALUE_BYTE_COUNT	113872866
+MAP	MAP	18889628000
+MAP	WRITE	6381697000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	857222000
+MAP	SERIALIZE_OUTPUT	1868506000
+MAP	MAP_MEM	223431120
+SPILL	SORT_AND_SPILL	51133452000
+SPILL	QUICK_SORT	1453185000
+SPILL	SORT_COUNT	876395
+SPILL	COMBINE	0
+SPILL	WRITE	49680267000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	128097932
+SPILL	COMPRESS_BYTE_COUNT	39323049
+MERGE	TOTAL_MERGE	1838000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	80561251000
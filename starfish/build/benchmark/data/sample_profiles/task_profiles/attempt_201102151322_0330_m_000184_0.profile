@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.23	0
+MAP	STARTUP_MEM	213536600
+MAP	SETUP	7580000
+MAP	SETUP_MEM	214836768
+MAP	CLEANUP	102000
+MAP	CLEANUP_MEM	221130664
+MAP	TOTAL_RUN	31052543152
+MAP	READ	7049923000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	7879455
+MAP	VALUE_BYTE_COUNT	113748574
+MAP	MAP	18956247152
+MAP	WRITE	6995264152
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1247372000
+MAP	SERIALIZE_OUTPUT	2023054000
+MAP	MAP_MEM	221130664
+SPILL	SORT_AND_SPILL	43216288848
+SPILL	QUICK_SORT	2870352000
+SPILL	SORT_COUNT	875495
+SPILL	COMBINE	0
+SPILL	WRITE	40345936848
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	127958799
+SPILL	COMPRESS_BYTE_COUNT	39280330
+MERGE	TOTAL_MERGE	1674000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	75200383000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.28	0
+MAP	STARTUP_MEM	213520152
+MAP	SETUP	6653000
+MAP	SETUP_MEM	214804928
+MAP	CLEANUP	94000
+MAP	CLEANUP_MEM	221999288
+MAP	TOTAL_RUN	36278417000
+MAP	READ	11454342000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	7879914
+MAP	VALUE_BYTE_COUNT	113743049
+MAP	MAP	21271794000
+MAP	WRITE	9187805000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	750499000
+MAP	SERIALIZE_OUTPUT	5300522000
+MAP	MAP_MEM	221999288
+SPILL	SORT_AND_SPILL	50858235000
+SPILL	QUICK_SORT	2896432000
+SPILL	SORT_COUNT	875546
+SPILL	COMBINE	0
+SPILL	WRITE	47961803000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	127952826
+SPILL	COMPRESS_BYTE_COUNT	39289465
+MERGE	TOTAL_MERGE	1621000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	87632766000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.20	0
+MAP	STARTUP_MEM	212693024
+MAP	SETUP	3609000
+MAP	SETUP_MEM	214015280
+MAP	CLEANUP	100000
+MAP	CLEANUP_MEM	220590512
+MAP	TOTAL_RUN	34625785000
+MAP	READ	3547932000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	7879716
+MAP	VALUE_BYTE_COUNT	113740572
+MAP	MAP	25607360000
+MAP	WRITE	11306897000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	874950000
+MAP	SERIALIZE_OUTPUT	5265531000
+MAP	MAP_MEM	221152672
+SPILL	SORT_AND_SPILL	49108942217
+SPILL	QUICK_SORT	1428329000
+SPILL	SORT_COUNT	875524
+SPILL	COMBINE	0
+SPILL	WRITE	47680613217
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	127950811
+SPILL	COMPRESS_BYTE_COUNT	39280039
+MERGE	TOTAL_MERGE	1640000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	85067440217
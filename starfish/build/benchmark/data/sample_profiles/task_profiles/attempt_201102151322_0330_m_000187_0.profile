@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.18	0
+MAP	STARTUP_MEM	214203632
+MAP	SETUP	16510000
+MAP	SETUP_MEM	216381528
+MAP	CLEANUP	94000
+MAP	CLEANUP_MEM	219727736
+MAP	TOTAL_RUN	22628519000
+MAP	READ	3499021000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	7876854
+MAP	VALUE_BYTE_COUNT	113693384
+MAP	MAP	15116725000
+MAP	WRITE	5436010000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1429781000
+MAP	SERIALIZE_OUTPUT	1899984000
+MAP	MAP_MEM	219727736
+SPILL	SORT_AND_SPILL	37425499000
+SPILL	QUICK_SORT	1888652000
+SPILL	SORT_COUNT	875206
+SPILL	COMBINE	0
+SPILL	WRITE	35536847000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	127897600
+SPILL	COMPRESS_BYTE_COUNT	39266906
+MERGE	TOTAL_MERGE	1644000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	64672782000
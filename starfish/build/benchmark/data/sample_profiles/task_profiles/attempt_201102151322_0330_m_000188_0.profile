@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.24	0
+MAP	STARTUP_MEM	213532984
+MAP	SETUP	6976000
+MAP	SETUP_MEM	214829544
+MAP	CLEANUP	97000
+MAP	CLEANUP_MEM	217703016
+MAP	TOTAL_RUN	31369512000
+MAP	READ	6714139000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	7868448
+MAP	VALUE_BYTE_COUNT	113584379
+MAP	MAP	19408536000
+MAP	WRITE	6870298000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1256481000
+MAP	SERIALIZE_OUTPUT	2153344000
+MAP	MAP_MEM	218265176
+SPILL	SORT_AND_SPILL	42762016848
+SPILL	QUICK_SORT	1671887000
+SPILL	SORT_COUNT	874272
+SPILL	COMBINE	0
+SPILL	WRITE	41090129848
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	127774597
+SPILL	COMPRESS_BYTE_COUNT	39225780
+MERGE	TOTAL_MERGE	1700000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	75250063848
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.22	0
+MAP	STARTUP_MEM	213514792
+MAP	SETUP	11005000
+MAP	SETUP_MEM	214803184
+MAP	CLEANUP	86000
+MAP	CLEANUP_MEM	212587592
+MAP	TOTAL_RUN	25287282000
+MAP	READ	5722273000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	7853751
+MAP	VALUE_BYTE_COUNT	113379220
+MAP	MAP	16265531000
+MAP	WRITE	5207074000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	811803000
+MAP	SERIALIZE_OUTPUT	2178619000
+MAP	MAP_MEM	212587592
+SPILL	SORT_AND_SPILL	44845721000
+SPILL	QUICK_SORT	1332729000
+SPILL	SORT_COUNT	872639
+SPILL	COMBINE	0
+SPILL	WRITE	43512992000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	127542872
+SPILL	COMPRESS_BYTE_COUNT	39152463
+MERGE	TOTAL_MERGE	1621000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	71883744000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.29	0
+MAP	STARTUP_MEM	213535344
+MAP	SETUP	30784000
+MAP	SETUP_MEM	214825496
+MAP	CLEANUP	86000
+MAP	CLEANUP_MEM	212661096
+MAP	TOTAL_RUN	23653535000
+MAP	READ	3638239000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	7852824
+MAP	VALUE_BYTE_COUNT	113361798
+MAP	MAP	16411841000
+MAP	WRITE	5387132000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	954077000
+MAP	SERIALIZE_OUTPUT	2024543000
+MAP	MAP_MEM	212661096
+SPILL	SORT_AND_SPILL	63582995000
+SPILL	QUICK_SORT	1704645000
+SPILL	SORT_COUNT	872536
+SPILL	COMBINE	0
+SPILL	WRITE	61878350000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	127523607
+SPILL	COMPRESS_BYTE_COUNT	39150229
+MERGE	TOTAL_MERGE	1640000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	87766837000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.27	0
+MAP	STARTUP_MEM	212683944
+MAP	SETUP	5128000
+MAP	SETUP_MEM	213984528
+MAP	CLEANUP	87000
+MAP	CLEANUP_MEM	212033040
+MAP	TOTAL_RUN	41306488000
+MAP	READ	8000613000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	7851600
+MAP	VALUE_BYTE_COUNT	113320577
+MAP	MAP	27405407000
+MAP	WRITE	8967770000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1420404000
+MAP	SERIALIZE_OUTPUT	4448209000
+MAP	MAP_MEM	212033040
+SPILL	SORT_AND_SPILL	44294894000
+SPILL	QUICK_SORT	5307293000
+SPILL	SORT_COUNT	872400
+SPILL	COMBINE	0
+SPILL	WRITE	38987601000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	127479060
+SPILL	COMPRESS_BYTE_COUNT	39136732
+MERGE	TOTAL_MERGE	1670000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	87267764000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.25	0
+MAP	STARTUP_MEM	212685032
+MAP	SETUP	4093000
+MAP	SETUP_MEM	213980512
+MAP	CLEANUP	89000
+MAP	CLEANUP_MEM	276863736
+MAP	TOTAL_RUN	32289509000
+MAP	READ	8996179000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	7835904
+MAP	VALUE_BYTE_COUNT	113109355
+MAP	MAP	18403682000
+MAP	WRITE	6411554000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	947054000
+MAP	SERIALIZE_OUTPUT	2177703000
+MAP	MAP_MEM	276863736
+SPILL	SORT_AND_SPILL	57201350000
+SPILL	QUICK_SORT	5465669000
+SPILL	SORT_COUNT	870656
+SPILL	COMBINE	0
+SPILL	WRITE	51735681000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	127240353
+SPILL	COMPRESS_BYTE_COUNT	39062603
+MERGE	TOTAL_MERGE	1615000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	90446704000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.17	0
+MAP	STARTUP_MEM	213535864
+MAP	SETUP	11363000
+MAP	SETUP_MEM	214835376
+MAP	CLEANUP	97000
+MAP	CLEANUP_MEM	266693272
+MAP	TOTAL_RUN	27879869000
+MAP	READ	5297550000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	7582050
+MAP	VALUE_BYTE_COUNT	109457853
+MAP	MAP	19361082000
+MAP	WRITE	5168071000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	850779000
+MAP	SERIALIZE_OUTPUT	1813529000
+MAP	MAP_MEM	266693272
+SPILL	SORT_AND_SPILL	55716317000
+SPILL	QUICK_SORT	5570843000
+SPILL	SORT_COUNT	842450
+SPILL	COMBINE	0
+SPILL	WRITE	50145474000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	123131946
+SPILL	COMPRESS_BYTE_COUNT	37800375
+MERGE	TOTAL_MERGE	1686000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	84218842000
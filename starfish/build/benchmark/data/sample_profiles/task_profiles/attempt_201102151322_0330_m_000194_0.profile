@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.13	0
+MAP	STARTUP_MEM	213540880
+MAP	SETUP	42455000
+MAP	SETUP_MEM	214855344
+MAP	CLEANUP	95000
+MAP	CLEANUP_MEM	244869744
+MAP	TOTAL_RUN	22200001000
+MAP	READ	2833842000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	7545168
+MAP	VALUE_BYTE_COUNT	108077720
+MAP	MAP	15445092000
+MAP	WRITE	4685349000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	794869000
+MAP	SERIALIZE_OUTPUT	1867459000
+MAP	MAP_MEM	244869744
+SPILL	SORT_AND_SPILL	27221045000
+SPILL	QUICK_SORT	1358985000
+SPILL	SORT_COUNT	838352
+SPILL	COMBINE	0
+SPILL	WRITE	25862060000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	120797838
+SPILL	COMPRESS_BYTE_COUNT	37548457
+MERGE	TOTAL_MERGE	2713000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	50006868000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.5	0
+MAP	STARTUP_MEM	212678408
+MAP	SETUP	5745000
+MAP	SETUP_MEM	213976120
+MAP	CLEANUP	93000
+MAP	CLEANUP_MEM	243828016
+MAP	TOTAL_RUN	27108967000
+MAP	READ	3598937000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	7542531
+MAP	VALUE_BYTE_COUNT	108048337
+MAP	MAP	17833519000
+MAP	WRITE	7135411000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1551985000
+MAP	SERIALIZE_OUTPUT	2801981000
+MAP	MAP_MEM	243828016
+SPILL	SORT_AND_SPILL	55374902000
+SPILL	QUICK_SORT	2431535000
+SPILL	SORT_COUNT	838059
+SPILL	COMBINE	0
+SPILL	WRITE	52943367000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	120764670
+SPILL	COMPRESS_BYTE_COUNT	37539280
+MERGE	TOTAL_MERGE	1711000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	83062143000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.16	0
+MAP	STARTUP_MEM	213532840
+MAP	SETUP	5741000
+MAP	SETUP_MEM	214829336
+MAP	CLEANUP	90000
+MAP	CLEANUP_MEM	239546144
+MAP	TOTAL_RUN	44464895000
+MAP	READ	11235904000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	7524963
+MAP	VALUE_BYTE_COUNT	107786620
+MAP	MAP	30350381000
+MAP	WRITE	9916605000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	2235585000
+MAP	SERIALIZE_OUTPUT	4481946000
+MAP	MAP_MEM	239546144
+SPILL	SORT_AND_SPILL	36669074000
+SPILL	QUICK_SORT	4261226000
+SPILL	SORT_COUNT	836107
+SPILL	COMBINE	0
+SPILL	WRITE	32407848000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	120471214
+SPILL	COMPRESS_BYTE_COUNT	37450350
+MERGE	TOTAL_MERGE	1680000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	81829338000
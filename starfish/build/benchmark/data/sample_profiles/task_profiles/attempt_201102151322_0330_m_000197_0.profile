@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.11	0
+MAP	STARTUP_MEM	212651680
+MAP	SETUP	43456000
+MAP	SETUP_MEM	214788216
+MAP	CLEANUP	93000
+MAP	CLEANUP_MEM	236160728
+MAP	TOTAL_RUN	21435420000
+MAP	READ	4270515000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	7518564
+MAP	VALUE_BYTE_COUNT	107702489
+MAP	MAP	13765644000
+MAP	WRITE	4475687000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	771436000
+MAP	SERIALIZE_OUTPUT	1720453000
+MAP	MAP_MEM	236722888
+SPILL	SORT_AND_SPILL	36531970000
+SPILL	QUICK_SORT	2087585000
+SPILL	SORT_COUNT	835396
+SPILL	COMBINE	0
+SPILL	WRITE	34444385000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	120376806
+SPILL	COMPRESS_BYTE_COUNT	37418138
+MERGE	TOTAL_MERGE	1766000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	60210753000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.6	0
+MAP	STARTUP_MEM	213558208
+MAP	SETUP	69897000
+MAP	SETUP_MEM	214881152
+MAP	CLEANUP	92000
+MAP	CLEANUP_MEM	234867360
+MAP	TOTAL_RUN	25383159000
+MAP	READ	3872551000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	7514307
+MAP	VALUE_BYTE_COUNT	107642647
+MAP	MAP	17552760000
+MAP	WRITE	5870399000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1041260000
+MAP	SERIALIZE_OUTPUT	2244879000
+MAP	MAP_MEM	234867360
+SPILL	SORT_AND_SPILL	65841801371
+SPILL	QUICK_SORT	1588946000
+SPILL	SORT_COUNT	834923
+SPILL	COMBINE	0
+SPILL	WRITE	64252855371
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	120309732
+SPILL	COMPRESS_BYTE_COUNT	37394712
+MERGE	TOTAL_MERGE	171098000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	93117693371
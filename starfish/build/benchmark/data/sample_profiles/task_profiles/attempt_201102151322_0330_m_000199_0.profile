@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.4	0
+MAP	STARTUP_MEM	212682480
+MAP	SETUP	44093000
+MAP	SETUP_MEM	213979568
+MAP	CLEANUP	93000
+MAP	CLEANUP_MEM	235301448
+MAP	TOTAL_RUN	28400602000
+MAP	READ	3015319000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	7509942
+MAP	VALUE_BYTE_COUNT	107562816
+MAP	MAP	19688879000
+MAP	WRITE	8835827000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	2709880000
+MAP	SERIALIZE_OUTPUT	2870858000
+MAP	MAP_MEM	235301448
+SPILL	SORT_AND_SPILL	59696637000
+SPILL	QUICK_SORT	1290161000
+SPILL	SORT_COUNT	834438
+SPILL	COMBINE	0
+SPILL	WRITE	58406476000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	120221125
+SPILL	COMPRESS_BYTE_COUNT	37366133
+MERGE	TOTAL_MERGE	298580000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	89958629000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.15	0
+MAP	STARTUP_MEM	213540728
+MAP	SETUP	5747000
+MAP	SETUP_MEM	214855072
+MAP	CLEANUP	93000
+MAP	CLEANUP_MEM	232017696
+MAP	TOTAL_RUN	23694514000
+MAP	READ	4104589000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	7507413
+MAP	VALUE_BYTE_COUNT	107521775
+MAP	MAP	15641973000
+MAP	WRITE	4777506000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	955748000
+MAP	SERIALIZE_OUTPUT	1686467000
+MAP	MAP_MEM	232579856
+SPILL	SORT_AND_SPILL	44799693000
+SPILL	QUICK_SORT	1487189000
+SPILL	SORT_COUNT	834157
+SPILL	COMBINE	0
+SPILL	WRITE	43312504000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	120177347
+SPILL	COMPRESS_BYTE_COUNT	37355513
+MERGE	TOTAL_MERGE	1622000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	70168472000
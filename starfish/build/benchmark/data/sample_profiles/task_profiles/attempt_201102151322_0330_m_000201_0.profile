@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.10	0
+MAP	STARTUP_MEM	213530488
+MAP	SETUP	20301000
+MAP	SETUP_MEM	214824608
+MAP	CLEANUP	100000
+MAP	CLEANUP_MEM	233984672
+MAP	TOTAL_RUN	31661665000
+MAP	READ	5584297000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	7505847
+MAP	VALUE_BYTE_COUNT	107521676
+MAP	MAP	21331766000
+MAP	WRITE	6541923000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	851432000
+MAP	SERIALIZE_OUTPUT	1828086000
+MAP	MAP_MEM	233984672
+SPILL	SORT_AND_SPILL	35303494000
+SPILL	QUICK_SORT	1293479000
+SPILL	SORT_COUNT	833983
+SPILL	COMBINE	0
+SPILL	WRITE	34010015000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	120175000
+SPILL	COMPRESS_BYTE_COUNT	37348544
+MERGE	TOTAL_MERGE	1743000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	67595399000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.14	0
+MAP	STARTUP_MEM	213515456
+MAP	SETUP	5941000
+MAP	SETUP_MEM	214804512
+MAP	CLEANUP	95000
+MAP	CLEANUP_MEM	231892992
+MAP	TOTAL_RUN	21739591000
+MAP	READ	2845115000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	7506072
+MAP	VALUE_BYTE_COUNT	107513095
+MAP	MAP	15578442000
+MAP	WRITE	5109773000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	782151000
+MAP	SERIALIZE_OUTPUT	2078476000
+MAP	MAP_MEM	232455152
+SPILL	SORT_AND_SPILL	28937918000
+SPILL	QUICK_SORT	1289572000
+SPILL	SORT_COUNT	834008
+SPILL	COMBINE	0
+SPILL	WRITE	27648346000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	120166372
+SPILL	COMPRESS_BYTE_COUNT	37357317
+MERGE	TOTAL_MERGE	1634000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	51163258000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.3	0
+MAP	STARTUP_MEM	212676424
+MAP	SETUP	3351000
+MAP	SETUP_MEM	213967416
+MAP	CLEANUP	94000
+MAP	CLEANUP_MEM	231927232
+MAP	TOTAL_RUN	30802135000
+MAP	READ	3379801000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	7502130
+MAP	VALUE_BYTE_COUNT	107457053
+MAP	MAP	22838183000
+MAP	WRITE	5010800000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	754648000
+MAP	SERIALIZE_OUTPUT	1761756000
+MAP	MAP_MEM	232489392
+SPILL	SORT_AND_SPILL	55804758000
+SPILL	QUICK_SORT	1388413000
+SPILL	SORT_COUNT	833570
+SPILL	COMBINE	0
+SPILL	WRITE	54416345000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	120104187
+SPILL	COMPRESS_BYTE_COUNT	37341629
+MERGE	TOTAL_MERGE	1275889000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	89371981000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.12	0
+MAP	STARTUP_MEM	213548288
+MAP	SETUP	5681000
+MAP	SETUP_MEM	214861440
+MAP	CLEANUP	104000
+MAP	CLEANUP_MEM	229146480
+MAP	TOTAL_RUN	24764084000
+MAP	READ	3410464000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	7493013
+MAP	VALUE_BYTE_COUNT	107347969
+MAP	MAP	17356769000
+MAP	WRITE	4770211000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	781820000
+MAP	SERIALIZE_OUTPUT	1754172000
+MAP	MAP_MEM	229146480
+SPILL	SORT_AND_SPILL	29693165000
+SPILL	QUICK_SORT	1659109000
+SPILL	SORT_COUNT	832557
+SPILL	COMBINE	0
+SPILL	WRITE	28034056000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	119980351
+SPILL	COMPRESS_BYTE_COUNT	37297181
+MERGE	TOTAL_MERGE	1795000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	55183139000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.9	0
+MAP	STARTUP_MEM	213539968
+MAP	SETUP	5802000
+MAP	SETUP_MEM	214834824
+MAP	CLEANUP	93000
+MAP	CLEANUP_MEM	229716992
+MAP	TOTAL_RUN	32152251000
+MAP	READ	2861127000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	7490925
+MAP	VALUE_BYTE_COUNT	107316791
+MAP	MAP	23936954000
+MAP	WRITE	7504162000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	2602845000
+MAP	SERIALIZE_OUTPUT	1843253000
+MAP	MAP_MEM	229716992
+SPILL	SORT_AND_SPILL	49037970000
+SPILL	QUICK_SORT	1350906000
+SPILL	SORT_COUNT	832325
+SPILL	COMBINE	0
+SPILL	WRITE	47687064000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	119944579
+SPILL	COMPRESS_BYTE_COUNT	37281612
+MERGE	TOTAL_MERGE	1599000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	81789109000
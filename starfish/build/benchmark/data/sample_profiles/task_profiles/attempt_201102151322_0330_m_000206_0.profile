@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.7	0
+MAP	STARTUP_MEM	216726344
+MAP	SETUP	3662000
+MAP	SETUP_MEM	218025632
+MAP	CLEANUP	97000
+MAP	CLEANUP_MEM	221949272
+MAP	TOTAL_RUN	22538447000
+MAP	READ	4134315000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	7468434
+MAP	VALUE_BYTE_COUNT	106993885
+MAP	MAP	14617578000
+MAP	WRITE	4517327000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	755046000
+MAP	SERIALIZE_OUTPUT	1756617000
+MAP	MAP_MEM	221949272
+SPILL	SORT_AND_SPILL	28824925000
+SPILL	QUICK_SORT	1308681000
+SPILL	SORT_COUNT	829826
+SPILL	COMBINE	0
+SPILL	WRITE	27516244000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	119584680
+SPILL	COMPRESS_BYTE_COUNT	37169306
+MERGE	TOTAL_MERGE	1680000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	56946477000
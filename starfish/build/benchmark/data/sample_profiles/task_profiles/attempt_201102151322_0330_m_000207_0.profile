@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.8	0
+MAP	STARTUP_MEM	213535616
+MAP	SETUP	6623000
+MAP	SETUP_MEM	214834848
+MAP	CLEANUP	96000
+MAP	CLEANUP_MEM	217716184
+MAP	TOTAL_RUN	25447187000
+MAP	READ	4388813000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	7455366
+MAP	VALUE_BYTE_COUNT	106795198
+MAP	MAP	17174521000
+MAP	WRITE	6032448000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1045353000
+MAP	SERIALIZE_OUTPUT	2017694000
+MAP	MAP_MEM	217716184
+SPILL	SORT_AND_SPILL	58130856152
+SPILL	QUICK_SORT	1515821000
+SPILL	SORT_COUNT	828374
+SPILL	COMBINE	0
+SPILL	WRITE	56615035152
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	119363819
+SPILL	COMPRESS_BYTE_COUNT	37097838
+MERGE	TOTAL_MERGE	9144000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	84238415152
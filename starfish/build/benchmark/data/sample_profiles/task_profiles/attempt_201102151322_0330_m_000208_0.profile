@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.2	0
+MAP	STARTUP_MEM	213545152
+MAP	SETUP	6387000
+MAP	SETUP_MEM	214863360
+MAP	CLEANUP	94000
+MAP	CLEANUP_MEM	210607552
+MAP	TOTAL_RUN	22503271000
+MAP	READ	4069985000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	7208388
+MAP	VALUE_BYTE_COUNT	103252346
+MAP	MAP	15523376000
+MAP	WRITE	4711853000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	722236000
+MAP	SERIALIZE_OUTPUT	1915639000
+MAP	MAP_MEM	212388856
+SPILL	SORT_AND_SPILL	34491979000
+SPILL	QUICK_SORT	1223242000
+SPILL	SORT_COUNT	800932
+SPILL	COMBINE	0
+SPILL	WRITE	33268737000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	115403504
+SPILL	COMPRESS_BYTE_COUNT	35877393
+MERGE	TOTAL_MERGE	20130000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	57516367000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/lineitem/lineitem.tbl.1	0
+MAP	STARTUP_MEM	213544616
+MAP	SETUP	5201000
+MAP	SETUP_MEM	214862824
+MAP	CLEANUP	92000
+MAP	CLEANUP_MEM	232497816
+MAP	TOTAL_RUN	30390982000
+MAP	READ	3070618000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	7082334
+MAP	VALUE_BYTE_COUNT	100653919
+MAP	MAP	21171003000
+MAP	WRITE	6177853000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1718336000
+MAP	SERIALIZE_OUTPUT	2649661000
+MAP	MAP_MEM	232497816
+SPILL	SORT_AND_SPILL	48811709000
+SPILL	QUICK_SORT	4937887000
+SPILL	SORT_COUNT	786926
+SPILL	COMBINE	0
+SPILL	WRITE	43873822000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	111759759
+SPILL	COMPRESS_BYTE_COUNT	35202244
+MERGE	TOTAL_MERGE	1662000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	80100244000
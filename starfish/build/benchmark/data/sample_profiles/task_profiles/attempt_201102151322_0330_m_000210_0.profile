@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/orders/orders.tbl.19	0
+MAP	STARTUP_MEM	213540536
+MAP	SETUP	3460000
+MAP	SETUP_MEM	214854656
+MAP	CLEANUP	93000
+MAP	CLEANUP_MEM	241007296
+MAP	TOTAL_RUN	9350475000
+MAP	READ	1844264000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	3205152
+MAP	VALUE_BYTE_COUNT	41418553
+MAP	MAP	6098649000
+MAP	WRITE	2040540000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	327950000
+MAP	SERIALIZE_OUTPUT	888746000
+MAP	MAP_MEM	241569456
+SPILL	SORT_AND_SPILL	10045450000
+SPILL	QUICK_SORT	678750000
+SPILL	SORT_COUNT	356128
+SPILL	COMBINE	0
+SPILL	WRITE	9366700000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	47001727
+SPILL	COMPRESS_BYTE_COUNT	14530141
+MERGE	TOTAL_MERGE	1581000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	21459737000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/orders/orders.tbl.21	0
+MAP	STARTUP_MEM	212704968
+MAP	SETUP	3593000
+MAP	SETUP_MEM	214884408
+MAP	CLEANUP	92000
+MAP	CLEANUP_MEM	240396896
+MAP	TOTAL_RUN	10343123000
+MAP	READ	1450514000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	3203919
+MAP	VALUE_BYTE_COUNT	41396278
+MAP	MAP	7332006000
+MAP	WRITE	2263113000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	480822000
+MAP	SERIALIZE_OUTPUT	659727000
+MAP	MAP_MEM	240959056
+SPILL	SORT_AND_SPILL	17032114000
+SPILL	QUICK_SORT	539002000
+SPILL	SORT_COUNT	355991
+SPILL	COMBINE	0
+SPILL	WRITE	16493112000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	46976639
+SPILL	COMPRESS_BYTE_COUNT	14524861
+MERGE	TOTAL_MERGE	1634000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	30398103000
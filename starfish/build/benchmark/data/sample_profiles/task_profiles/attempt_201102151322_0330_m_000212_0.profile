@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/orders/orders.tbl.20	0
+MAP	STARTUP_MEM	213514160
+MAP	SETUP	26870000
+MAP	SETUP_MEM	214801944
+MAP	CLEANUP	94000
+MAP	CLEANUP_MEM	239497352
+MAP	TOTAL_RUN	9791525000
+MAP	READ	1629124000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	3202695
+MAP	VALUE_BYTE_COUNT	41392628
+MAP	MAP	6617567000
+MAP	WRITE	2094021000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	315671000
+MAP	SERIALIZE_OUTPUT	728703000
+MAP	MAP_MEM	240059512
+SPILL	SORT_AND_SPILL	18391078000
+SPILL	QUICK_SORT	3682173000
+SPILL	SORT_COUNT	355855
+SPILL	COMBINE	0
+SPILL	WRITE	14708905000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	46971415
+SPILL	COMPRESS_BYTE_COUNT	14521905
+MERGE	TOTAL_MERGE	1580000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	28679508000
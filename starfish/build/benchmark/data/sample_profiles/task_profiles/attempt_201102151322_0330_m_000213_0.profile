@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/orders/orders.tbl.27	0
+MAP	STARTUP_MEM	212686904
+MAP	SETUP	39950000
+MAP	SETUP_MEM	214858568
+MAP	CLEANUP	109000
+MAP	CLEANUP_MEM	240973248
+MAP	TOTAL_RUN	11776137000
+MAP	READ	2035529000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	3203712
+MAP	VALUE_BYTE_COUNT	41388940
+MAP	MAP	7571789000
+MAP	WRITE	3214636000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	405822000
+MAP	SERIALIZE_OUTPUT	901052000
+MAP	MAP_MEM	240973248
+SPILL	SORT_AND_SPILL	31971535444
+SPILL	QUICK_SORT	720760000
+SPILL	SORT_COUNT	355968
+SPILL	COMBINE	0
+SPILL	WRITE	31250775444
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	46968636
+SPILL	COMPRESS_BYTE_COUNT	14521056
+MERGE	TOTAL_MERGE	1589000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	45280035444
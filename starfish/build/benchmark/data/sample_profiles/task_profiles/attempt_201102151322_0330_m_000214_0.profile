@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/orders/orders.tbl.25	0
+MAP	STARTUP_MEM	213540224
+MAP	SETUP	8528000
+MAP	SETUP_MEM	214854056
+MAP	CLEANUP	102000
+MAP	CLEANUP_MEM	242362472
+MAP	TOTAL_RUN	16531935000
+MAP	READ	2715984000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	3202542
+MAP	VALUE_BYTE_COUNT	41386242
+MAP	MAP	7738948000
+MAP	WRITE	2379113000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	755167000
+MAP	SERIALIZE_OUTPUT	759484000
+MAP	MAP_MEM	242362472
+SPILL	SORT_AND_SPILL	25450370000
+SPILL	QUICK_SORT	3308260000
+SPILL	SORT_COUNT	355838
+SPILL	COMBINE	0
+SPILL	WRITE	22142110000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	46964765
+SPILL	COMPRESS_BYTE_COUNT	14520563
+MERGE	TOTAL_MERGE	2094000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	43631284000
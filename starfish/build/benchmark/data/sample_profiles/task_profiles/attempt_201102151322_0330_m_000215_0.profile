@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/orders/orders.tbl.18	0
+MAP	STARTUP_MEM	214355696
+MAP	SETUP	3513000
+MAP	SETUP_MEM	215652928
+MAP	CLEANUP	94000
+MAP	CLEANUP_MEM	240242872
+MAP	TOTAL_RUN	8349091000
+MAP	READ	1277529000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	3201246
+MAP	VALUE_BYTE_COUNT	41383938
+MAP	MAP	5682733000
+MAP	WRITE	1858855000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	357357000
+MAP	SERIALIZE_OUTPUT	703022000
+MAP	MAP_MEM	241098512
+SPILL	SORT_AND_SPILL	11843792000
+SPILL	QUICK_SORT	547340000
+SPILL	SORT_COUNT	355694
+SPILL	COMBINE	0
+SPILL	WRITE	11296452000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	46960564
+SPILL	COMPRESS_BYTE_COUNT	14517620
+MERGE	TOTAL_MERGE	1636000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	21670310000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/orders/orders.tbl.24	0
+MAP	STARTUP_MEM	213538376
+MAP	SETUP	5410000
+MAP	SETUP_MEM	214831552
+MAP	CLEANUP	105000
+MAP	CLEANUP_MEM	242494376
+MAP	TOTAL_RUN	14084323000
+MAP	READ	4051349000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	3201138
+MAP	VALUE_BYTE_COUNT	41376873
+MAP	MAP	8081724000
+MAP	WRITE	2922979000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	497702000
+MAP	SERIALIZE_OUTPUT	1048335000
+MAP	MAP_MEM	242494376
+SPILL	SORT_AND_SPILL	18730868152
+SPILL	QUICK_SORT	647571000
+SPILL	SORT_COUNT	355682
+SPILL	COMBINE	0
+SPILL	WRITE	18083297152
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	46953392
+SPILL	COMPRESS_BYTE_COUNT	14518552
+MERGE	TOTAL_MERGE	1638000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	35139276152
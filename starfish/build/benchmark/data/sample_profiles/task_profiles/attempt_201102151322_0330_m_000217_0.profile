@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/orders/orders.tbl.29	0
+MAP	STARTUP_MEM	212660664
+MAP	SETUP	14294000
+MAP	SETUP_MEM	213940640
+MAP	CLEANUP	96000
+MAP	CLEANUP_MEM	240353352
+MAP	TOTAL_RUN	11208017000
+MAP	READ	1686095000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	3202974
+MAP	VALUE_BYTE_COUNT	41372584
+MAP	MAP	7539430000
+MAP	WRITE	2182563000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	389583000
+MAP	SERIALIZE_OUTPUT	699829000
+MAP	MAP_MEM	240915512
+SPILL	SORT_AND_SPILL	30495713152
+SPILL	QUICK_SORT	2064182000
+SPILL	SORT_COUNT	355886
+SPILL	COMBINE	0
+SPILL	WRITE	28431531152
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	46951068
+SPILL	COMPRESS_BYTE_COUNT	14518957
+MERGE	TOTAL_MERGE	1699000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	43737853152
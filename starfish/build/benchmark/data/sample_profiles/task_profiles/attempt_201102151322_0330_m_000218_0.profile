@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/orders/orders.tbl.23	0
+MAP	STARTUP_MEM	214170768
+MAP	SETUP	3473000
+MAP	SETUP_MEM	215459056
+MAP	CLEANUP	108000
+MAP	CLEANUP_MEM	240979064
+MAP	TOTAL_RUN	9402010000
+MAP	READ	1355880000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	3201111
+MAP	VALUE_BYTE_COUNT	41365972
+MAP	MAP	6645938000
+MAP	WRITE	2465545000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	358999000
+MAP	SERIALIZE_OUTPUT	1239655000
+MAP	MAP_MEM	240979064
+SPILL	SORT_AND_SPILL	11724044000
+SPILL	QUICK_SORT	573867000
+SPILL	SORT_COUNT	355679
+SPILL	COMBINE	0
+SPILL	WRITE	11150177000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	46941885
+SPILL	COMPRESS_BYTE_COUNT	14511718
+MERGE	TOTAL_MERGE	1632000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	24635080000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/orders/orders.tbl.30	0
+MAP	STARTUP_MEM	213537512
+MAP	SETUP	17754000
+MAP	SETUP_MEM	214838496
+MAP	CLEANUP	92000
+MAP	CLEANUP_MEM	240316392
+MAP	TOTAL_RUN	11308271201
+MAP	READ	1479387000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	3200904
+MAP	VALUE_BYTE_COUNT	41359195
+MAP	MAP	8263074201
+MAP	WRITE	3364280201
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	693732201
+MAP	SERIALIZE_OUTPUT	831645000
+MAP	MAP_MEM	240878552
+SPILL	SORT_AND_SPILL	13037401000
+SPILL	QUICK_SORT	631398000
+SPILL	SORT_COUNT	355656
+SPILL	COMBINE	0
+SPILL	WRITE	12406003000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	46934637
+SPILL	COMPRESS_BYTE_COUNT	14511649
+MERGE	TOTAL_MERGE	1917000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	24993999201
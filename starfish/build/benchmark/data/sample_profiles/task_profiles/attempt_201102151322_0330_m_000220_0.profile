@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/orders/orders.tbl.22	0
+MAP	STARTUP_MEM	212689064
+MAP	SETUP	3436000
+MAP	SETUP_MEM	214007352
+MAP	CLEANUP	97000
+MAP	CLEANUP_MEM	237360032
+MAP	TOTAL_RUN	8989419000
+MAP	READ	1307968000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	3200067
+MAP	VALUE_BYTE_COUNT	41356870
+MAP	MAP	6446478000
+MAP	WRITE	2094565000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	386280000
+MAP	SERIALIZE_OUTPUT	787340000
+MAP	MAP_MEM	237360032
+SPILL	SORT_AND_SPILL	9293126000
+SPILL	QUICK_SORT	563621000
+SPILL	SORT_COUNT	355563
+SPILL	COMBINE	0
+SPILL	WRITE	8729505000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	46930700
+SPILL	COMPRESS_BYTE_COUNT	14509465
+MERGE	TOTAL_MERGE	1731000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	18749992000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/orders/orders.tbl.28	0
+MAP	STARTUP_MEM	214189784
+MAP	SETUP	5913000
+MAP	SETUP_MEM	215477520
+MAP	CLEANUP	92000
+MAP	CLEANUP_MEM	240966544
+MAP	TOTAL_RUN	8908591000
+MAP	READ	1445046000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	3200265
+MAP	VALUE_BYTE_COUNT	41349503
+MAP	MAP	6251657000
+MAP	WRITE	2189691000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	326792000
+MAP	SERIALIZE_OUTPUT	809819000
+MAP	MAP_MEM	240966544
+SPILL	SORT_AND_SPILL	10675835000
+SPILL	QUICK_SORT	561320000
+SPILL	SORT_COUNT	355585
+SPILL	COMBINE	0
+SPILL	WRITE	10114515000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	46924137
+SPILL	COMPRESS_BYTE_COUNT	14508564
+MERGE	TOTAL_MERGE	1533000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	23121778000
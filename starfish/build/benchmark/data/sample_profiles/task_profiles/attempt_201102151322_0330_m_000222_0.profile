@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/orders/orders.tbl.26	0
+MAP	STARTUP_MEM	212688936
+MAP	SETUP	3567000
+MAP	SETUP_MEM	214007144
+MAP	CLEANUP	92000
+MAP	CLEANUP_MEM	241025712
+MAP	TOTAL_RUN	12380830000
+MAP	READ	2008021000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	3199554
+MAP	VALUE_BYTE_COUNT	41340633
+MAP	MAP	8037957000
+MAP	WRITE	3802401000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	389434000
+MAP	SERIALIZE_OUTPUT	1218456000
+MAP	MAP_MEM	241025712
+SPILL	SORT_AND_SPILL	15486753000
+SPILL	QUICK_SORT	1712486000
+SPILL	SORT_COUNT	355506
+SPILL	COMBINE	0
+SPILL	WRITE	13774267000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	46913748
+SPILL	COMPRESS_BYTE_COUNT	14505689
+MERGE	TOTAL_MERGE	1599000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	28617322000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/orders/orders.tbl.17	0
+MAP	STARTUP_MEM	213548120
+MAP	SETUP	5795000
+MAP	SETUP_MEM	214869824
+MAP	CLEANUP	104000
+MAP	CLEANUP_MEM	219096040
+MAP	TOTAL_RUN	12792069000
+MAP	READ	3395396000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	3126798
+MAP	VALUE_BYTE_COUNT	40395461
+MAP	MAP	8058091000
+MAP	WRITE	1954930000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	363636000
+MAP	SERIALIZE_OUTPUT	752097000
+MAP	MAP_MEM	219096040
+SPILL	SORT_AND_SPILL	15979439000
+SPILL	QUICK_SORT	4257913000
+SPILL	SORT_COUNT	347422
+SPILL	COMBINE	0
+SPILL	WRITE	11721526000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	45841371
+SPILL	COMPRESS_BYTE_COUNT	14172156
+MERGE	TOTAL_MERGE	1675000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	30110780000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/orders/orders.tbl.4	0
+MAP	STARTUP_MEM	212683192
+MAP	SETUP	3753000
+MAP	SETUP_MEM	213995640
+MAP	CLEANUP	93000
+MAP	CLEANUP_MEM	212028784
+MAP	TOTAL_RUN	12961285000
+MAP	READ	3683193000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	3115278
+MAP	VALUE_BYTE_COUNT	39905530
+MAP	MAP	8024335000
+MAP	WRITE	1976831000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	361173000
+MAP	SERIALIZE_OUTPUT	793937000
+MAP	MAP_MEM	212028784
+SPILL	SORT_AND_SPILL	19708589000
+SPILL	QUICK_SORT	2681487000
+SPILL	SORT_COUNT	346142
+SPILL	COMBINE	0
+SPILL	WRITE	17027102000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	44974552
+SPILL	COMPRESS_BYTE_COUNT	14032700
+MERGE	TOTAL_MERGE	1686000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	33256359000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/orders/orders.tbl.11	0
+MAP	STARTUP_MEM	212697528
+MAP	SETUP	4460000
+MAP	SETUP_MEM	214024440
+MAP	CLEANUP	100000
+MAP	CLEANUP_MEM	212051144
+MAP	TOTAL_RUN	8500578000
+MAP	READ	1311657000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	3114936
+MAP	VALUE_BYTE_COUNT	39900717
+MAP	MAP	6011527000
+MAP	WRITE	1733869000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	316871000
+MAP	SERIALIZE_OUTPUT	660412000
+MAP	MAP_MEM	212051144
+SPILL	SORT_AND_SPILL	15482226000
+SPILL	QUICK_SORT	599463000
+SPILL	SORT_COUNT	346104
+SPILL	COMBINE	0
+SPILL	WRITE	14882763000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	44968967
+SPILL	COMPRESS_BYTE_COUNT	14030960
+MERGE	TOTAL_MERGE	1694000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	26504800000
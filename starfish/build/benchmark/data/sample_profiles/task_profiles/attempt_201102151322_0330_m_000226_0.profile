@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/orders/orders.tbl.15	0
+MAP	STARTUP_MEM	214361856
+MAP	SETUP	5063000
+MAP	SETUP_MEM	215675360
+MAP	CLEANUP	87000
+MAP	CLEANUP_MEM	214288168
+MAP	TOTAL_RUN	15863643000
+MAP	READ	1102167000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	3113991
+MAP	VALUE_BYTE_COUNT	39899106
+MAP	MAP	11060163000
+MAP	WRITE	4957598000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1323835000
+MAP	SERIALIZE_OUTPUT	586057000
+MAP	MAP_MEM	214288168
+SPILL	SORT_AND_SPILL	15510082000
+SPILL	QUICK_SORT	1463572000
+SPILL	SORT_COUNT	345999
+SPILL	COMBINE	0
+SPILL	WRITE	14046510000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	44965782
+SPILL	COMPRESS_BYTE_COUNT	14031376
+MERGE	TOTAL_MERGE	1602000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	32823882000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/orders/orders.tbl.13	0
+MAP	STARTUP_MEM	212654440
+MAP	SETUP	3756000
+MAP	SETUP_MEM	213938144
+MAP	CLEANUP	119000
+MAP	CLEANUP_MEM	278653256
+MAP	TOTAL_RUN	11528016000
+MAP	READ	3200139000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	3114081
+MAP	VALUE_BYTE_COUNT	39898468
+MAP	MAP	7058618000
+MAP	WRITE	1783535000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	336857000
+MAP	SERIALIZE_OUTPUT	669677000
+MAP	MAP_MEM	278653256
+SPILL	SORT_AND_SPILL	8606036000
+SPILL	QUICK_SORT	538701000
+SPILL	SORT_COUNT	346009
+SPILL	COMBINE	0
+SPILL	WRITE	8067335000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	44965758
+SPILL	COMPRESS_BYTE_COUNT	14030433
+MERGE	TOTAL_MERGE	1784000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	22573584000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/orders/orders.tbl.12	0
+MAP	STARTUP_MEM	212702952
+MAP	SETUP	3786000
+MAP	SETUP_MEM	214025128
+MAP	CLEANUP	96000
+MAP	CLEANUP_MEM	278653264
+MAP	TOTAL_RUN	11986489000
+MAP	READ	3534774000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	3114594
+MAP	VALUE_BYTE_COUNT	39896347
+MAP	MAP	6697355000
+MAP	WRITE	2317566000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	379919000
+MAP	SERIALIZE_OUTPUT	920803000
+MAP	MAP_MEM	278653264
+SPILL	SORT_AND_SPILL	13938125000
+SPILL	QUICK_SORT	537578000
+SPILL	SORT_COUNT	346066
+SPILL	COMBINE	0
+SPILL	WRITE	13400547000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	44963975
+SPILL	COMPRESS_BYTE_COUNT	14027874
+MERGE	TOTAL_MERGE	1657000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	27327177000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/orders/orders.tbl.7	0
+MAP	STARTUP_MEM	212670712
+MAP	SETUP	5782000
+MAP	SETUP_MEM	213960624
+MAP	CLEANUP	97000
+MAP	CLEANUP_MEM	276450904
+MAP	TOTAL_RUN	10523147152
+MAP	READ	1379399000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	3113046
+MAP	VALUE_BYTE_COUNT	39891241
+MAP	MAP	7201473152
+MAP	WRITE	2623097000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	381929000
+MAP	SERIALIZE_OUTPUT	939558000
+MAP	MAP_MEM	276450904
+SPILL	SORT_AND_SPILL	16975801000
+SPILL	QUICK_SORT	535932000
+SPILL	SORT_COUNT	345894
+SPILL	COMBINE	0
+SPILL	WRITE	16439869000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	44956714
+SPILL	COMPRESS_BYTE_COUNT	14027777
+MERGE	TOTAL_MERGE	1644000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	28135723152
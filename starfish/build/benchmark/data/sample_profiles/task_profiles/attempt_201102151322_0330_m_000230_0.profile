@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/orders/orders.tbl.8	0
+MAP	STARTUP_MEM	213507152
+MAP	SETUP	5789000
+MAP	SETUP_MEM	214787872
+MAP	CLEANUP	115000
+MAP	CLEANUP_MEM	212584584
+MAP	TOTAL_RUN	23325029000
+MAP	READ	4667007000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	3114117
+MAP	VALUE_BYTE_COUNT	39888864
+MAP	MAP	12571186000
+MAP	WRITE	4884459000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	383814000
+MAP	SERIALIZE_OUTPUT	1531668000
+MAP	MAP_MEM	212584584
+SPILL	SORT_AND_SPILL	18655564000
+SPILL	QUICK_SORT	1696633000
+SPILL	SORT_COUNT	346013
+SPILL	COMBINE	0
+SPILL	WRITE	16958931000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	44955667
+SPILL	COMPRESS_BYTE_COUNT	14026606
+MERGE	TOTAL_MERGE	1698000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	42677215000
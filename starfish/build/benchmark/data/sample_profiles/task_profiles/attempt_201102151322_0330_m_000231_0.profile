@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/orders/orders.tbl.3	0
+MAP	STARTUP_MEM	212695600
+MAP	SETUP	3678000
+MAP	SETUP_MEM	214011624
+MAP	CLEANUP	93000
+MAP	CLEANUP_MEM	278671984
+MAP	TOTAL_RUN	11064869000
+MAP	READ	1453989000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	3113694
+MAP	VALUE_BYTE_COUNT	39879720
+MAP	MAP	7211365000
+MAP	WRITE	2417453000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	404693000
+MAP	SERIALIZE_OUTPUT	822791000
+MAP	MAP_MEM	212390504
+SPILL	SORT_AND_SPILL	13396786000
+SPILL	QUICK_SORT	558657000
+SPILL	SORT_COUNT	345966
+SPILL	COMBINE	0
+SPILL	WRITE	12838129000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	44945759
+SPILL	COMPRESS_BYTE_COUNT	14027168
+MERGE	TOTAL_MERGE	2126000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	27563285000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/orders/orders.tbl.14	0
+MAP	STARTUP_MEM	212678416
+MAP	SETUP	4403000
+MAP	SETUP_MEM	213976128
+MAP	CLEANUP	93000
+MAP	CLEANUP_MEM	274524392
+MAP	TOTAL_RUN	9664630000
+MAP	READ	1416403000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	3112839
+MAP	VALUE_BYTE_COUNT	39870529
+MAP	MAP	6164701000
+MAP	WRITE	2511609000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	654200000
+MAP	SERIALIZE_OUTPUT	768057000
+MAP	MAP_MEM	274524392
+SPILL	SORT_AND_SPILL	19526440000
+SPILL	QUICK_SORT	853052000
+SPILL	SORT_COUNT	345871
+SPILL	COMBINE	0
+SPILL	WRITE	18673388000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	44935350
+SPILL	COMPRESS_BYTE_COUNT	14019819
+MERGE	TOTAL_MERGE	1669000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	30209819000
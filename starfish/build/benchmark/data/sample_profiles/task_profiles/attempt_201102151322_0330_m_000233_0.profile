@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/orders/orders.tbl.10	0
+MAP	STARTUP_MEM	212701112
+MAP	SETUP	3836000
+MAP	SETUP_MEM	214031136
+MAP	CLEANUP	95000
+MAP	CLEANUP_MEM	278562312
+MAP	TOTAL_RUN	12059822000
+MAP	READ	1696816000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	3110697
+MAP	VALUE_BYTE_COUNT	39863013
+MAP	MAP	8602770000
+MAP	WRITE	4166123000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	400115000
+MAP	SERIALIZE_OUTPUT	871183000
+MAP	MAP_MEM	212295600
+SPILL	SORT_AND_SPILL	10762418000
+SPILL	QUICK_SORT	742641000
+SPILL	SORT_COUNT	345633
+SPILL	COMBINE	0
+SPILL	WRITE	10019777000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	44924588
+SPILL	COMPRESS_BYTE_COUNT	14016921
+MERGE	TOTAL_MERGE	2134000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	25608968000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/orders/orders.tbl.16	0
+MAP	STARTUP_MEM	212670384
+MAP	SETUP	5555000
+MAP	SETUP_MEM	213958832
+MAP	CLEANUP	90000
+MAP	CLEANUP_MEM	278213344
+MAP	TOTAL_RUN	10436366000
+MAP	READ	3398671000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	3112515
+MAP	VALUE_BYTE_COUNT	39862302
+MAP	MAP	5796130000
+MAP	WRITE	1988584000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	424115000
+MAP	SERIALIZE_OUTPUT	794507000
+MAP	MAP_MEM	278213344
+SPILL	SORT_AND_SPILL	12652199000
+SPILL	QUICK_SORT	3085552000
+SPILL	SORT_COUNT	345835
+SPILL	COMBINE	0
+SPILL	WRITE	9566647000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	44925812
+SPILL	COMPRESS_BYTE_COUNT	14019760
+MERGE	TOTAL_MERGE	1484000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	25751924000
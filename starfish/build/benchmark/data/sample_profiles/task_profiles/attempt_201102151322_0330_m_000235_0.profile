@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/orders/orders.tbl.9	0
+MAP	STARTUP_MEM	212687432
+MAP	SETUP	5412000
+MAP	SETUP_MEM	214004128
+MAP	CLEANUP	93000
+MAP	CLEANUP_MEM	275105776
+MAP	TOTAL_RUN	9011921000
+MAP	READ	1928120000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	3112218
+MAP	VALUE_BYTE_COUNT	39859269
+MAP	MAP	5811192000
+MAP	WRITE	1950832000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	446341000
+MAP	SERIALIZE_OUTPUT	714841000
+MAP	MAP_MEM	275105776
+SPILL	SORT_AND_SPILL	9210208000
+SPILL	QUICK_SORT	541070000
+SPILL	SORT_COUNT	345802
+SPILL	COMBINE	0
+SPILL	WRITE	8669138000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	44923281
+SPILL	COMPRESS_BYTE_COUNT	14018909
+MERGE	TOTAL_MERGE	1435000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	18906254000
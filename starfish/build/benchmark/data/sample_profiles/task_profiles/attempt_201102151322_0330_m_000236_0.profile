@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/orders/orders.tbl.5	0
+MAP	STARTUP_MEM	212696296
+MAP	SETUP	3664000
+MAP	SETUP_MEM	214013016
+MAP	CLEANUP	103000
+MAP	CLEANUP_MEM	278653264
+MAP	TOTAL_RUN	14784113000
+MAP	READ	2088239000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	3110436
+MAP	VALUE_BYTE_COUNT	39838319
+MAP	MAP	9291973000
+MAP	WRITE	2242043000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	379479000
+MAP	SERIALIZE_OUTPUT	813247000
+MAP	MAP_MEM	278653264
+SPILL	SORT_AND_SPILL	28337383444
+SPILL	QUICK_SORT	764327000
+SPILL	SORT_COUNT	345604
+SPILL	COMBINE	0
+SPILL	WRITE	27573056444
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	44898607
+SPILL	COMPRESS_BYTE_COUNT	14009332
+MERGE	TOTAL_MERGE	1546000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	44211319444
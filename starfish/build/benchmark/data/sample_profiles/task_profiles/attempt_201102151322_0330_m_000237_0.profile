@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/orders/orders.tbl.6	0
+MAP	STARTUP_MEM	213530952
+MAP	SETUP	23184000
+MAP	SETUP_MEM	214825576
+MAP	CLEANUP	99000
+MAP	CLEANUP_MEM	278078200
+MAP	TOTAL_RUN	10452818000
+MAP	READ	1397658000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	3109464
+MAP	VALUE_BYTE_COUNT	39836104
+MAP	MAP	7356423000
+MAP	WRITE	2400439000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	385489000
+MAP	SERIALIZE_OUTPUT	861557000
+MAP	MAP_MEM	278078200
+SPILL	SORT_AND_SPILL	14178863000
+SPILL	QUICK_SORT	509871000
+SPILL	SORT_COUNT	345496
+SPILL	COMBINE	0
+SPILL	WRITE	13668992000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	44895556
+SPILL	COMPRESS_BYTE_COUNT	14009986
+MERGE	TOTAL_MERGE	1510000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	26150807000
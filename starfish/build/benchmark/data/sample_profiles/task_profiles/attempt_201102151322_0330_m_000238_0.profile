@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/orders/orders.tbl.2	0
+MAP	STARTUP_MEM	212692272
+MAP	SETUP	25102000
+MAP	SETUP_MEM	214869424
+MAP	CLEANUP	91000
+MAP	CLEANUP_MEM	257990864
+MAP	TOTAL_RUN	8916828000
+MAP	READ	1462030000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	3035583
+MAP	VALUE_BYTE_COUNT	38883661
+MAP	MAP	5837112000
+MAP	WRITE	2266627000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	304356000
+MAP	SERIALIZE_OUTPUT	892376000
+MAP	MAP_MEM	257990864
+SPILL	SORT_AND_SPILL	16628979000
+SPILL	QUICK_SORT	483461000
+SPILL	SORT_COUNT	337287
+SPILL	COMBINE	0
+SPILL	WRITE	16145518000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	43822869
+SPILL	COMPRESS_BYTE_COUNT	13676281
+MERGE	TOTAL_MERGE	1632000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	29682191000
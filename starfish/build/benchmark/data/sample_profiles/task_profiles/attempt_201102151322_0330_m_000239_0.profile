@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-194-151-159.ec2.internal:50001/user/root/tpch/in/orders/orders.tbl.1	0
+MAP	STARTUP_MEM	213541608
+MAP	SETUP	25977000
+MAP	SETUP_MEM	214838024
+MAP	CLEANUP	97000
+MAP	CLEANUP_MEM	244679328
+MAP	TOTAL_RUN	11597466000
+MAP	READ	2083795000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	3004101
+MAP	VALUE_BYTE_COUNT	38140307
+MAP	MAP	7268108000
+MAP	WRITE	2889304000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	581659000
+MAP	SERIALIZE_OUTPUT	800321000
+MAP	MAP_MEM	245241488
+SPILL	SORT_AND_SPILL	14008943000
+SPILL	QUICK_SORT	500010000
+SPILL	SORT_COUNT	333789
+SPILL	COMBINE	0
+SPILL	WRITE	13508933000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	42682953
+SPILL	COMPRESS_BYTE_COUNT	13472974
+MERGE	TOTAL_MERGE	1657000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	27572281000
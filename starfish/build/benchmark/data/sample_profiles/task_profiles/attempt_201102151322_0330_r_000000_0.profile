@@ -0,0 +1,989 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5517179
+SHUFFLE	COMPRESS_BYTE_COUNT	1713665
+SHUFFLE	COPY_MAP_DATA	502340000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5487672
+SHUFFLE	COMPRESS_BYTE_COUNT	1727243
+SHUFFLE	COPY_MAP_DATA	155312000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5492055
+SHUFFLE	COMPRESS_BYTE_COUNT	1706486
+SHUFFLE	COPY_MAP_DATA	125711000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5559202
+SHUFFLE	COMPRESS_BYTE_COUNT	1727787
+SHUFFLE	COPY_MAP_DATA	110272000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5533797
+SHUFFLE	COMPRESS_BYTE_COUNT	1719834
+SHUFFLE	COPY_MAP_DATA	1141078000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5550914
+SHUFFLE	COMPRESS_BYTE_COUNT	1725626
+SHUFFLE	COPY_MAP_DATA	117481000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5559807
+SHUFFLE	COMPRESS_BYTE_COUNT	1727525
+SHUFFLE	COPY_MAP_DATA	141875000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5481957
+SHUFFLE	COMPRESS_BYTE_COUNT	1725927
+SHUFFLE	COPY_MAP_DATA	100650000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5574332
+SHUFFLE	COMPRESS_BYTE_COUNT	1732352
+SHUFFLE	COPY_MAP_DATA	387965000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5520330
+SHUFFLE	COMPRESS_BYTE_COUNT	1714841
+SHUFFLE	COPY_MAP_DATA	109660000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5592227
+SHUFFLE	COMPRESS_BYTE_COUNT	1715553
+SHUFFLE	COPY_MAP_DATA	366393000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5487285
+SHUFFLE	COMPRESS_BYTE_COUNT	1705829
+SHUFFLE	COPY_MAP_DATA	113908000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5541038
+SHUFFLE	COMPRESS_BYTE_COUNT	1721845
+SHUFFLE	COPY_MAP_DATA	104631000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5480470
+SHUFFLE	COMPRESS_BYTE_COUNT	1703165
+SHUFFLE	COPY_MAP_DATA	143467000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5503628
+SHUFFLE	COMPRESS_BYTE_COUNT	1710431
+SHUFFLE	COPY_MAP_DATA	117839000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5503092
+SHUFFLE	COMPRESS_BYTE_COUNT	1710588
+SHUFFLE	COPY_MAP_DATA	129357000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5445612
+SHUFFLE	COMPRESS_BYTE_COUNT	1712851
+SHUFFLE	COPY_MAP_DATA	158444000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5506653
+SHUFFLE	COMPRESS_BYTE_COUNT	1711817
+SHUFFLE	COPY_MAP_DATA	257263000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5581940
+SHUFFLE	COMPRESS_BYTE_COUNT	1734329
+SHUFFLE	COPY_MAP_DATA	274014000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5507520
+SHUFFLE	COMPRESS_BYTE_COUNT	1712878
+SHUFFLE	COPY_MAP_DATA	89552000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5459512
+SHUFFLE	COMPRESS_BYTE_COUNT	1719293
+SHUFFLE	COPY_MAP_DATA	117608000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5490417
+SHUFFLE	COMPRESS_BYTE_COUNT	1706117
+SHUFFLE	COPY_MAP_DATA	299829000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5560251
+SHUFFLE	COMPRESS_BYTE_COUNT	1728311
+SHUFFLE	COPY_MAP_DATA	99830000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5494078
+SHUFFLE	COMPRESS_BYTE_COUNT	1707941
+SHUFFLE	COPY_MAP_DATA	547064000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5513765
+SHUFFLE	COMPRESS_BYTE_COUNT	1714357
+SHUFFLE	COPY_MAP_DATA	150215000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5472827
+SHUFFLE	COMPRESS_BYTE_COUNT	1701016
+SHUFFLE	COPY_MAP_DATA	164711000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5442013
+SHUFFLE	COMPRESS_BYTE_COUNT	1691817
+SHUFFLE	COPY_MAP_DATA	179498000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5501028
+SHUFFLE	COMPRESS_BYTE_COUNT	1710593
+SHUFFLE	COPY_MAP_DATA	577021000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5476367
+SHUFFLE	COMPRESS_BYTE_COUNT	1702397
+SHUFFLE	COPY_MAP_DATA	324154000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5395958
+SHUFFLE	COMPRESS_BYTE_COUNT	1726436
+SHUFFLE	COPY_MAP_DATA	303877000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5536037
+SHUFFLE	COMPRESS_BYTE_COUNT	1720779
+SHUFFLE	COPY_MAP_DATA	1047993000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5597728
+SHUFFLE	COMPRESS_BYTE_COUNT	1718247
+SHUFFLE	COPY_MAP_DATA	103917000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5520476
+SHUFFLE	COMPRESS_BYTE_COUNT	1715957
+SHUFFLE	COPY_MAP_DATA	1050358000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5476928
+SHUFFLE	COMPRESS_BYTE_COUNT	1703435
+SHUFFLE	COPY_MAP_DATA	143362000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5571838
+SHUFFLE	COMPRESS_BYTE_COUNT	1709833
+SHUFFLE	COPY_MAP_DATA	86591000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5498217
+SHUFFLE	COMPRESS_BYTE_COUNT	1709392
+SHUFFLE	COPY_MAP_DATA	86918000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5506592
+SHUFFLE	COMPRESS_BYTE_COUNT	1691852
+SHUFFLE	COPY_MAP_DATA	125171000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5490770
+SHUFFLE	COMPRESS_BYTE_COUNT	1706249
+SHUFFLE	COPY_MAP_DATA	191477000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5517991
+SHUFFLE	COMPRESS_BYTE_COUNT	1736338
+SHUFFLE	COPY_MAP_DATA	205581000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5495505
+SHUFFLE	COMPRESS_BYTE_COUNT	1708476
+SHUFFLE	COPY_MAP_DATA	89176000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5500216
+SHUFFLE	COMPRESS_BYTE_COUNT	1709071
+SHUFFLE	COPY_MAP_DATA	184578000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5411598
+SHUFFLE	COMPRESS_BYTE_COUNT	1682304
+SHUFFLE	COPY_MAP_DATA	111346000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5518702
+SHUFFLE	COMPRESS_BYTE_COUNT	1693728
+SHUFFLE	COPY_MAP_DATA	389438000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5536561
+SHUFFLE	COMPRESS_BYTE_COUNT	1720262
+SHUFFLE	COPY_MAP_DATA	119495000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5595193
+SHUFFLE	COMPRESS_BYTE_COUNT	1717705
+SHUFFLE	COPY_MAP_DATA	112951000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5510612
+SHUFFLE	COMPRESS_BYTE_COUNT	1711687
+SHUFFLE	COPY_MAP_DATA	931578000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5560127
+SHUFFLE	COMPRESS_BYTE_COUNT	1727279
+SHUFFLE	COPY_MAP_DATA	1784028000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5500309
+SHUFFLE	COMPRESS_BYTE_COUNT	1689062
+SHUFFLE	COPY_MAP_DATA	134881000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5490804
+SHUFFLE	COMPRESS_BYTE_COUNT	1707312
+SHUFFLE	COPY_MAP_DATA	9215257000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5545763
+SHUFFLE	COMPRESS_BYTE_COUNT	1702862
+SHUFFLE	COPY_MAP_DATA	111447000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5535813
+SHUFFLE	COMPRESS_BYTE_COUNT	1700486
+SHUFFLE	COPY_MAP_DATA	132530000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5512619
+SHUFFLE	COMPRESS_BYTE_COUNT	1713593
+SHUFFLE	COPY_MAP_DATA	1768252000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5532487
+SHUFFLE	COMPRESS_BYTE_COUNT	1699291
+SHUFFLE	COPY_MAP_DATA	346593000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5554306
+SHUFFLE	COMPRESS_BYTE_COUNT	1704407
+SHUFFLE	COPY_MAP_DATA	1552097000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5554390
+SHUFFLE	COMPRESS_BYTE_COUNT	1725376
+SHUFFLE	COPY_MAP_DATA	85634000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5555943
+SHUFFLE	COMPRESS_BYTE_COUNT	1723438
+SHUFFLE	COPY_MAP_DATA	9335964000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5522402
+SHUFFLE	COMPRESS_BYTE_COUNT	1696856
+SHUFFLE	COPY_MAP_DATA	93099000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5475283
+SHUFFLE	COMPRESS_BYTE_COUNT	1701917
+SHUFFLE	COPY_MAP_DATA	658299000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5590765
+SHUFFLE	COMPRESS_BYTE_COUNT	1715733
+SHUFFLE	COPY_MAP_DATA	129176000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5567647
+SHUFFLE	COMPRESS_BYTE_COUNT	1708671
+SHUFFLE	COPY_MAP_DATA	83150000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5517061
+SHUFFLE	COMPRESS_BYTE_COUNT	1693102
+SHUFFLE	COPY_MAP_DATA	82953000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5521405
+SHUFFLE	COMPRESS_BYTE_COUNT	1695011
+SHUFFLE	COPY_MAP_DATA	632018000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5526513
+SHUFFLE	COMPRESS_BYTE_COUNT	1697154
+SHUFFLE	COPY_MAP_DATA	9084469000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5477550
+SHUFFLE	COMPRESS_BYTE_COUNT	1681511
+SHUFFLE	COPY_MAP_DATA	688410000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5575666
+SHUFFLE	COMPRESS_BYTE_COUNT	1711695
+SHUFFLE	COPY_MAP_DATA	1170765000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5536656
+SHUFFLE	COMPRESS_BYTE_COUNT	1699496
+SHUFFLE	COPY_MAP_DATA	145966000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5572065
+SHUFFLE	COMPRESS_BYTE_COUNT	1710979
+SHUFFLE	COPY_MAP_DATA	86016000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5527037
+SHUFFLE	COMPRESS_BYTE_COUNT	1738901
+SHUFFLE	COPY_MAP_DATA	108493000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5445077
+SHUFFLE	COMPRESS_BYTE_COUNT	1711144
+SHUFFLE	COPY_MAP_DATA	113123000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5599160
+SHUFFLE	COMPRESS_BYTE_COUNT	1717015
+SHUFFLE	COPY_MAP_DATA	107431000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5553121
+SHUFFLE	COMPRESS_BYTE_COUNT	1705736
+SHUFFLE	COPY_MAP_DATA	1220090000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5556057
+SHUFFLE	COMPRESS_BYTE_COUNT	1705464
+SHUFFLE	COPY_MAP_DATA	85792000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5562323
+SHUFFLE	COMPRESS_BYTE_COUNT	1706616
+SHUFFLE	COPY_MAP_DATA	153753000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5524182
+SHUFFLE	COMPRESS_BYTE_COUNT	1695272
+SHUFFLE	COPY_MAP_DATA	820279000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5541120
+SHUFFLE	COMPRESS_BYTE_COUNT	1699894
+SHUFFLE	COPY_MAP_DATA	164085000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5545887
+SHUFFLE	COMPRESS_BYTE_COUNT	1701833
+SHUFFLE	COPY_MAP_DATA	87458000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5520979
+SHUFFLE	COMPRESS_BYTE_COUNT	1694831
+SHUFFLE	COPY_MAP_DATA	177650000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5540849
+SHUFFLE	COMPRESS_BYTE_COUNT	1699646
+SHUFFLE	COPY_MAP_DATA	292520000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5546301
+SHUFFLE	COMPRESS_BYTE_COUNT	1702885
+SHUFFLE	COPY_MAP_DATA	929741000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5541710
+SHUFFLE	COMPRESS_BYTE_COUNT	1701298
+SHUFFLE	COPY_MAP_DATA	319136000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5593168
+SHUFFLE	COMPRESS_BYTE_COUNT	1717731
+SHUFFLE	COPY_MAP_DATA	87399000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5522265
+SHUFFLE	COMPRESS_BYTE_COUNT	1695452
+SHUFFLE	COPY_MAP_DATA	6446270000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5539469
+SHUFFLE	COMPRESS_BYTE_COUNT	1701720
+SHUFFLE	COPY_MAP_DATA	417062000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5528757
+SHUFFLE	COMPRESS_BYTE_COUNT	1696925
+SHUFFLE	COPY_MAP_DATA	343448000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5553134
+SHUFFLE	COMPRESS_BYTE_COUNT	1705117
+SHUFFLE	COPY_MAP_DATA	1146523000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5528738
+SHUFFLE	COMPRESS_BYTE_COUNT	1698191
+SHUFFLE	COPY_MAP_DATA	488465000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5489279
+SHUFFLE	COMPRESS_BYTE_COUNT	1728060
+SHUFFLE	COPY_MAP_DATA	376324000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5504051
+SHUFFLE	COMPRESS_BYTE_COUNT	1689429
+SHUFFLE	COPY_MAP_DATA	1613919000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5568858
+SHUFFLE	COMPRESS_BYTE_COUNT	1709779
+SHUFFLE	COPY_MAP_DATA	238457000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5561550
+SHUFFLE	COMPRESS_BYTE_COUNT	1706938
+SHUFFLE	COPY_MAP_DATA	2902698000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5580021
+SHUFFLE	COMPRESS_BYTE_COUNT	1713558
+SHUFFLE	COPY_MAP_DATA	93656000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5515091
+SHUFFLE	COMPRESS_BYTE_COUNT	1691690
+SHUFFLE	COPY_MAP_DATA	91417000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5551274
+SHUFFLE	COMPRESS_BYTE_COUNT	1703320
+SHUFFLE	COPY_MAP_DATA	206297000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5538840
+SHUFFLE	COMPRESS_BYTE_COUNT	1699781
+SHUFFLE	COPY_MAP_DATA	93192000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5520828
+SHUFFLE	COMPRESS_BYTE_COUNT	1695480
+SHUFFLE	COPY_MAP_DATA	257385000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5533879
+SHUFFLE	COMPRESS_BYTE_COUNT	1697828
+SHUFFLE	COPY_MAP_DATA	103260000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5490219
+SHUFFLE	COMPRESS_BYTE_COUNT	1707165
+SHUFFLE	COPY_MAP_DATA	2028378000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5528651
+SHUFFLE	COMPRESS_BYTE_COUNT	1697419
+SHUFFLE	COPY_MAP_DATA	1353800000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5538109
+SHUFFLE	COMPRESS_BYTE_COUNT	1699908
+SHUFFLE	COPY_MAP_DATA	85431000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5638216
+SHUFFLE	COMPRESS_BYTE_COUNT	1730096
+SHUFFLE	COPY_MAP_DATA	87459000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5627383
+SHUFFLE	COMPRESS_BYTE_COUNT	1727770
+SHUFFLE	COPY_MAP_DATA	96339000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5519616
+SHUFFLE	COMPRESS_BYTE_COUNT	1694081
+SHUFFLE	COPY_MAP_DATA	105435000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5539266
+SHUFFLE	COMPRESS_BYTE_COUNT	1721764
+SHUFFLE	COPY_MAP_DATA	170305000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5565508
+SHUFFLE	COMPRESS_BYTE_COUNT	1708124
+SHUFFLE	COPY_MAP_DATA	1260919000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5493153
+SHUFFLE	COMPRESS_BYTE_COUNT	1685849
+SHUFFLE	COPY_MAP_DATA	1382938000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5597763
+SHUFFLE	COMPRESS_BYTE_COUNT	1718744
+SHUFFLE	COPY_MAP_DATA	5675269000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5533416
+SHUFFLE	COMPRESS_BYTE_COUNT	1699124
+SHUFFLE	COPY_MAP_DATA	490140000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5562863
+SHUFFLE	COMPRESS_BYTE_COUNT	1707498
+SHUFFLE	COPY_MAP_DATA	82771000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5538766
+SHUFFLE	COMPRESS_BYTE_COUNT	1721245
+SHUFFLE	COPY_MAP_DATA	710483000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5544876
+SHUFFLE	COMPRESS_BYTE_COUNT	1701529
+SHUFFLE	COPY_MAP_DATA	1044993000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5583650
+SHUFFLE	COMPRESS_BYTE_COUNT	1712573
+SHUFFLE	COPY_MAP_DATA	184104000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5532961
+SHUFFLE	COMPRESS_BYTE_COUNT	1719006
+SHUFFLE	COPY_MAP_DATA	319948000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5511694
+SHUFFLE	COMPRESS_BYTE_COUNT	1713226
+SHUFFLE	COPY_MAP_DATA	122362000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5490266
+SHUFFLE	COMPRESS_BYTE_COUNT	1707197
+SHUFFLE	COPY_MAP_DATA	133738000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5524948
+SHUFFLE	COMPRESS_BYTE_COUNT	1696379
+SHUFFLE	COPY_MAP_DATA	687288000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5511346
+SHUFFLE	COMPRESS_BYTE_COUNT	1691275
+SHUFFLE	COPY_MAP_DATA	2680400000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5481343
+SHUFFLE	COMPRESS_BYTE_COUNT	1703593
+SHUFFLE	COPY_MAP_DATA	139847000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5602219
+SHUFFLE	COMPRESS_BYTE_COUNT	1718785
+SHUFFLE	COPY_MAP_DATA	104363000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5569760
+SHUFFLE	COMPRESS_BYTE_COUNT	1709050
+SHUFFLE	COPY_MAP_DATA	101823000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5515600
+SHUFFLE	COMPRESS_BYTE_COUNT	1714786
+SHUFFLE	COPY_MAP_DATA	1486173000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5486705
+SHUFFLE	COMPRESS_BYTE_COUNT	1705291
+SHUFFLE	COPY_MAP_DATA	3063571000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5635060
+SHUFFLE	COMPRESS_BYTE_COUNT	1729190
+SHUFFLE	COPY_MAP_DATA	492333000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5518922
+SHUFFLE	COMPRESS_BYTE_COUNT	1715152
+SHUFFLE	COPY_MAP_DATA	400507000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5480628
+SHUFFLE	COMPRESS_BYTE_COUNT	1702434
+SHUFFLE	COPY_MAP_DATA	496564000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5545310
+SHUFFLE	COMPRESS_BYTE_COUNT	1701698
+SHUFFLE	COPY_MAP_DATA	201194000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5488977
+SHUFFLE	COMPRESS_BYTE_COUNT	1705617
+SHUFFLE	COPY_MAP_DATA	1738236000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5523931
+SHUFFLE	COMPRESS_BYTE_COUNT	1716804
+SHUFFLE	COPY_MAP_DATA	297998000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5498561
+SHUFFLE	COMPRESS_BYTE_COUNT	1709485
+SHUFFLE	COPY_MAP_DATA	164409000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5526985
+SHUFFLE	COMPRESS_BYTE_COUNT	1717884
+SHUFFLE	COPY_MAP_DATA	8815953000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5554748
+SHUFFLE	COMPRESS_BYTE_COUNT	1725263
+SHUFFLE	COPY_MAP_DATA	1414785000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5568829
+SHUFFLE	COMPRESS_BYTE_COUNT	1708929
+SHUFFLE	COPY_MAP_DATA	541056000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5506349
+SHUFFLE	COMPRESS_BYTE_COUNT	1710486
+SHUFFLE	COPY_MAP_DATA	253238000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5501726
+SHUFFLE	COMPRESS_BYTE_COUNT	1710187
+SHUFFLE	COPY_MAP_DATA	1157179000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5503957
+SHUFFLE	COMPRESS_BYTE_COUNT	1710995
+SHUFFLE	COPY_MAP_DATA	97713000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5528965
+SHUFFLE	COMPRESS_BYTE_COUNT	1718429
+SHUFFLE	COPY_MAP_DATA	92562000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5559049
+SHUFFLE	COMPRESS_BYTE_COUNT	1732242
+SHUFFLE	COPY_MAP_DATA	383996000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5560783
+SHUFFLE	COMPRESS_BYTE_COUNT	1729209
+SHUFFLE	COPY_MAP_DATA	110662000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5561293
+SHUFFLE	COMPRESS_BYTE_COUNT	1727456
+SHUFFLE	COPY_MAP_DATA	163475000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5481725
+SHUFFLE	COMPRESS_BYTE_COUNT	1702908
+SHUFFLE	COPY_MAP_DATA	1920543000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5524974
+SHUFFLE	COMPRESS_BYTE_COUNT	1717912
+SHUFFLE	COPY_MAP_DATA	115061000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5492429
+SHUFFLE	COMPRESS_BYTE_COUNT	1706521
+SHUFFLE	COPY_MAP_DATA	3573292000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5453957
+SHUFFLE	COMPRESS_BYTE_COUNT	1695557
+SHUFFLE	COPY_MAP_DATA	1181953000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5543647
+SHUFFLE	COMPRESS_BYTE_COUNT	1727638
+SHUFFLE	COPY_MAP_DATA	87609000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5523355
+SHUFFLE	COMPRESS_BYTE_COUNT	1716166
+SHUFFLE	COPY_MAP_DATA	973314000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5509533
+SHUFFLE	COMPRESS_BYTE_COUNT	1711979
+SHUFFLE	COPY_MAP_DATA	94433000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5553681
+SHUFFLE	COMPRESS_BYTE_COUNT	1726049
+SHUFFLE	COPY_MAP_DATA	92438000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5476754
+SHUFFLE	COMPRESS_BYTE_COUNT	1702456
+SHUFFLE	COPY_MAP_DATA	105884000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5533046
+SHUFFLE	COMPRESS_BYTE_COUNT	1719955
+SHUFFLE	COPY_MAP_DATA	94422000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5493469
+SHUFFLE	COMPRESS_BYTE_COUNT	1707245
+SHUFFLE	COPY_MAP_DATA	1447624000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5552944
+SHUFFLE	COMPRESS_BYTE_COUNT	1729438
+SHUFFLE	COPY_MAP_DATA	103654000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5516683
+SHUFFLE	COMPRESS_BYTE_COUNT	1714035
+SHUFFLE	COPY_MAP_DATA	417668000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5544879
+SHUFFLE	COMPRESS_BYTE_COUNT	1726741
+SHUFFLE	COPY_MAP_DATA	492379000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5565297
+SHUFFLE	COMPRESS_BYTE_COUNT	1734161
+SHUFFLE	COPY_MAP_DATA	85867000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5526207
+SHUFFLE	COMPRESS_BYTE_COUNT	1738538
+SHUFFLE	COPY_MAP_DATA	126621000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5516839
+SHUFFLE	COMPRESS_BYTE_COUNT	1714548
+SHUFFLE	COPY_MAP_DATA	89054000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5580233
+SHUFFLE	COMPRESS_BYTE_COUNT	1734750
+SHUFFLE	COPY_MAP_DATA	1794041000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5556625
+SHUFFLE	COMPRESS_BYTE_COUNT	1731052
+SHUFFLE	COPY_MAP_DATA	114598000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5558743
+SHUFFLE	COMPRESS_BYTE_COUNT	1729780
+SHUFFLE	COPY_MAP_DATA	109483000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5599558
+SHUFFLE	COMPRESS_BYTE_COUNT	1729273
+SHUFFLE	COPY_MAP_DATA	81354000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5498955
+SHUFFLE	COMPRESS_BYTE_COUNT	1744738
+SHUFFLE	COPY_MAP_DATA	92311000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5593142
+SHUFFLE	COMPRESS_BYTE_COUNT	1727251
+SHUFFLE	COPY_MAP_DATA	82207000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4709075
+SHUFFLE	COMPRESS_BYTE_COUNT	1445838
+SHUFFLE	COPY_MAP_DATA	163197000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4722030
+SHUFFLE	COMPRESS_BYTE_COUNT	1448892
+SHUFFLE	COPY_MAP_DATA	80532000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5603505
+SHUFFLE	COMPRESS_BYTE_COUNT	1729844
+SHUFFLE	COPY_MAP_DATA	116639000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4452254
+SHUFFLE	COMPRESS_BYTE_COUNT	1384370
+SHUFFLE	COPY_MAP_DATA	76346000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5592438
+SHUFFLE	COMPRESS_BYTE_COUNT	1726225
+SHUFFLE	COPY_MAP_DATA	117555000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5595794
+SHUFFLE	COMPRESS_BYTE_COUNT	1726666
+SHUFFLE	COPY_MAP_DATA	89747000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4450448
+SHUFFLE	COMPRESS_BYTE_COUNT	1383468
+SHUFFLE	COPY_MAP_DATA	139096000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5588402
+SHUFFLE	COMPRESS_BYTE_COUNT	1724922
+SHUFFLE	COPY_MAP_DATA	577057000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4737599
+SHUFFLE	COMPRESS_BYTE_COUNT	1454527
+SHUFFLE	COPY_MAP_DATA	1477092000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5586911
+SHUFFLE	COMPRESS_BYTE_COUNT	1724303
+SHUFFLE	COPY_MAP_DATA	95785000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5583059
+SHUFFLE	COMPRESS_BYTE_COUNT	1723694
+SHUFFLE	COPY_MAP_DATA	85751000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4742380
+SHUFFLE	COMPRESS_BYTE_COUNT	1455535
+SHUFFLE	COPY_MAP_DATA	74848000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5590790
+SHUFFLE	COMPRESS_BYTE_COUNT	1725097
+SHUFFLE	COPY_MAP_DATA	86554000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5555075
+SHUFFLE	COMPRESS_BYTE_COUNT	1730064
+SHUFFLE	COPY_MAP_DATA	112454000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5592014
+SHUFFLE	COMPRESS_BYTE_COUNT	1725584
+SHUFFLE	COPY_MAP_DATA	126899000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5602558
+SHUFFLE	COMPRESS_BYTE_COUNT	1729660
+SHUFFLE	COPY_MAP_DATA	87558000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5583065
+SHUFFLE	COMPRESS_BYTE_COUNT	1724033
+SHUFFLE	COPY_MAP_DATA	296811000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4730522
+SHUFFLE	COMPRESS_BYTE_COUNT	1451936
+SHUFFLE	COPY_MAP_DATA	75473000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4792637
+SHUFFLE	COMPRESS_BYTE_COUNT	1470524
+SHUFFLE	COPY_MAP_DATA	133536000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4745991
+SHUFFLE	COMPRESS_BYTE_COUNT	1457336
+SHUFFLE	COPY_MAP_DATA	8221554000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5561979
+SHUFFLE	COMPRESS_BYTE_COUNT	1733341
+SHUFFLE	COPY_MAP_DATA	94975000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5541319
+SHUFFLE	COMPRESS_BYTE_COUNT	1727298
+SHUFFLE	COPY_MAP_DATA	210430000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1734162
+SHUFFLE	COMPRESS_BYTE_COUNT	536795
+SHUFFLE	COPY_MAP_DATA	96282000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5558148
+SHUFFLE	COMPRESS_BYTE_COUNT	1731838
+SHUFFLE	COPY_MAP_DATA	616039000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5570469
+SHUFFLE	COMPRESS_BYTE_COUNT	1734148
+SHUFFLE	COPY_MAP_DATA	236691000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4736691
+SHUFFLE	COMPRESS_BYTE_COUNT	1453594
+SHUFFLE	COPY_MAP_DATA	74423000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5560102
+SHUFFLE	COMPRESS_BYTE_COUNT	1733047
+SHUFFLE	COPY_MAP_DATA	361207000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4732849
+SHUFFLE	COMPRESS_BYTE_COUNT	1453223
+SHUFFLE	COPY_MAP_DATA	1924330000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5540995
+SHUFFLE	COMPRESS_BYTE_COUNT	1725598
+SHUFFLE	COPY_MAP_DATA	93306000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4447844
+SHUFFLE	COMPRESS_BYTE_COUNT	1382828
+SHUFFLE	COPY_MAP_DATA	83216000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4426733
+SHUFFLE	COMPRESS_BYTE_COUNT	1376078
+SHUFFLE	COPY_MAP_DATA	80677000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4463305
+SHUFFLE	COMPRESS_BYTE_COUNT	1388274
+SHUFFLE	COPY_MAP_DATA	70002000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4329458
+SHUFFLE	COMPRESS_BYTE_COUNT	1345507
+SHUFFLE	COPY_MAP_DATA	141854000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4412883
+SHUFFLE	COMPRESS_BYTE_COUNT	1371602
+SHUFFLE	COPY_MAP_DATA	68854000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5602587
+SHUFFLE	COMPRESS_BYTE_COUNT	1728606
+SHUFFLE	COPY_MAP_DATA	130766000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1739768
+SHUFFLE	COMPRESS_BYTE_COUNT	537666
+SHUFFLE	COPY_MAP_DATA	15038503000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1743486
+SHUFFLE	COMPRESS_BYTE_COUNT	538998
+SHUFFLE	COPY_MAP_DATA	31948000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1742372
+SHUFFLE	COMPRESS_BYTE_COUNT	538714
+SHUFFLE	COPY_MAP_DATA	4324073000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1661867
+SHUFFLE	COMPRESS_BYTE_COUNT	518721
+SHUFFLE	COPY_MAP_DATA	39930000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1742681
+SHUFFLE	COMPRESS_BYTE_COUNT	538109
+SHUFFLE	COPY_MAP_DATA	36466000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1740616
+SHUFFLE	COMPRESS_BYTE_COUNT	537926
+SHUFFLE	COPY_MAP_DATA	62756000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1744957
+SHUFFLE	COMPRESS_BYTE_COUNT	539845
+SHUFFLE	COPY_MAP_DATA	31562000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4697498
+SHUFFLE	COMPRESS_BYTE_COUNT	1442895
+SHUFFLE	COPY_MAP_DATA	76895000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4413907
+SHUFFLE	COMPRESS_BYTE_COUNT	1371519
+SHUFFLE	COPY_MAP_DATA	1708807000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5555609
+SHUFFLE	COMPRESS_BYTE_COUNT	1730226
+SHUFFLE	COPY_MAP_DATA	1389058000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1741385
+SHUFFLE	COMPRESS_BYTE_COUNT	538048
+SHUFFLE	COPY_MAP_DATA	28582000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1667260
+SHUFFLE	COMPRESS_BYTE_COUNT	519906
+SHUFFLE	COPY_MAP_DATA	229889000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1663300
+SHUFFLE	COMPRESS_BYTE_COUNT	519135
+SHUFFLE	COPY_MAP_DATA	222565000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1745869
+SHUFFLE	COMPRESS_BYTE_COUNT	539747
+SHUFFLE	COPY_MAP_DATA	99876000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4424333
+SHUFFLE	COMPRESS_BYTE_COUNT	1375956
+SHUFFLE	COPY_MAP_DATA	290149000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1668481
+SHUFFLE	COMPRESS_BYTE_COUNT	519721
+SHUFFLE	COPY_MAP_DATA	116265000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1656989
+SHUFFLE	COMPRESS_BYTE_COUNT	517093
+SHUFFLE	COPY_MAP_DATA	4108330000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1662567
+SHUFFLE	COMPRESS_BYTE_COUNT	519072
+SHUFFLE	COPY_MAP_DATA	32563000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4734171
+SHUFFLE	COMPRESS_BYTE_COUNT	1453100
+SHUFFLE	COPY_MAP_DATA	88570000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4421951
+SHUFFLE	COMPRESS_BYTE_COUNT	1375161
+SHUFFLE	COPY_MAP_DATA	315554000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4570085
+SHUFFLE	COMPRESS_BYTE_COUNT	1404540
+SHUFFLE	COPY_MAP_DATA	90405000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4681483
+SHUFFLE	COMPRESS_BYTE_COUNT	1436543
+SHUFFLE	COPY_MAP_DATA	72636000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4454856
+SHUFFLE	COMPRESS_BYTE_COUNT	1384132
+SHUFFLE	COPY_MAP_DATA	534834000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4455826
+SHUFFLE	COMPRESS_BYTE_COUNT	1384798
+SHUFFLE	COPY_MAP_DATA	68083000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1660855
+SHUFFLE	COMPRESS_BYTE_COUNT	518665
+SHUFFLE	COPY_MAP_DATA	267630000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4431469
+SHUFFLE	COMPRESS_BYTE_COUNT	1377028
+SHUFFLE	COPY_MAP_DATA	69177000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4112430
+SHUFFLE	COMPRESS_BYTE_COUNT	1295932
+SHUFFLE	COPY_MAP_DATA	596235000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1735981
+SHUFFLE	COMPRESS_BYTE_COUNT	536125
+SHUFFLE	COPY_MAP_DATA	756592000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4480697
+SHUFFLE	COMPRESS_BYTE_COUNT	1392177
+SHUFFLE	COPY_MAP_DATA	80685000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4758834
+SHUFFLE	COMPRESS_BYTE_COUNT	1461944
+SHUFFLE	COPY_MAP_DATA	72959000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1664229
+SHUFFLE	COMPRESS_BYTE_COUNT	519050
+SHUFFLE	COPY_MAP_DATA	27324000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1737702
+SHUFFLE	COMPRESS_BYTE_COUNT	536672
+SHUFFLE	COPY_MAP_DATA	27477000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1660767
+SHUFFLE	COMPRESS_BYTE_COUNT	518840
+SHUFFLE	COPY_MAP_DATA	1013910000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1740744
+SHUFFLE	COMPRESS_BYTE_COUNT	538150
+SHUFFLE	COPY_MAP_DATA	38759000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1667223
+SHUFFLE	COMPRESS_BYTE_COUNT	520654
+SHUFFLE	COPY_MAP_DATA	33332000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1737079
+SHUFFLE	COMPRESS_BYTE_COUNT	537257
+SHUFFLE	COPY_MAP_DATA	113741000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1580569
+SHUFFLE	COMPRESS_BYTE_COUNT	499339
+SHUFFLE	COPY_MAP_DATA	34916000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1662152
+SHUFFLE	COMPRESS_BYTE_COUNT	518495
+SHUFFLE	COPY_MAP_DATA	27250000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1665339
+SHUFFLE	COMPRESS_BYTE_COUNT	519365
+SHUFFLE	COPY_MAP_DATA	27327000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1691665
+SHUFFLE	COMPRESS_BYTE_COUNT	523277
+SHUFFLE	COPY_MAP_DATA	28344000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1619675
+SHUFFLE	COMPRESS_BYTE_COUNT	505540
+SHUFFLE	COPY_MAP_DATA	70436000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1667823
+SHUFFLE	COMPRESS_BYTE_COUNT	520477
+SHUFFLE	COPY_MAP_DATA	152702000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1664160
+SHUFFLE	COMPRESS_BYTE_COUNT	519119
+SHUFFLE	COPY_MAP_DATA	27973000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4469769
+SHUFFLE	COMPRESS_BYTE_COUNT	1389447
+SHUFFLE	COPY_MAP_DATA	1238687000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	477127354000
+MERGE	READ_WRITE	464483088000
+MERGE	READ_WRITE_COUNT	8
+MERGE	COMBINE	0
+MERGE	WRITE	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	9956403000
+SORT	READ_WRITE	9747094000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	255813704
+REDUCE	SETUP	5672000
+REDUCE	SETUP_MEM	255813704
+REDUCE	CLEANUP	41000
+REDUCE	CLEANUP_MEM	172582056
+REDUCE	TOTAL_RUN	429091521000
+REDUCE	READ	7635091000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	412542181000
+REDUCE	WRITE	228253306000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	55880872
+REDUCE	VALUE_BYTE_COUNT	1647671659
+REDUCE	REDUCE_MEM	172582056
+REDUCE	WRITE	62895000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	1112334993000
@@ -0,0 +1,989 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5585346
+SHUFFLE	COMPRESS_BYTE_COUNT	1736628
+SHUFFLE	COPY_MAP_DATA	196175000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5519785
+SHUFFLE	COMPRESS_BYTE_COUNT	1715781
+SHUFFLE	COPY_MAP_DATA	132933000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5601080
+SHUFFLE	COMPRESS_BYTE_COUNT	1740310
+SHUFFLE	COPY_MAP_DATA	124816000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5455868
+SHUFFLE	COMPRESS_BYTE_COUNT	1718171
+SHUFFLE	COPY_MAP_DATA	172917000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5544014
+SHUFFLE	COMPRESS_BYTE_COUNT	1701355
+SHUFFLE	COPY_MAP_DATA	278627000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5536825
+SHUFFLE	COMPRESS_BYTE_COUNT	1720111
+SHUFFLE	COPY_MAP_DATA	108436000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5476166
+SHUFFLE	COMPRESS_BYTE_COUNT	1702251
+SHUFFLE	COPY_MAP_DATA	1264658000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5496172
+SHUFFLE	COMPRESS_BYTE_COUNT	1731642
+SHUFFLE	COPY_MAP_DATA	113855000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5535560
+SHUFFLE	COMPRESS_BYTE_COUNT	1720817
+SHUFFLE	COPY_MAP_DATA	313964000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5494910
+SHUFFLE	COMPRESS_BYTE_COUNT	1707401
+SHUFFLE	COPY_MAP_DATA	154599000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5505117
+SHUFFLE	COMPRESS_BYTE_COUNT	1711292
+SHUFFLE	COPY_MAP_DATA	336300000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5485050
+SHUFFLE	COMPRESS_BYTE_COUNT	1705151
+SHUFFLE	COPY_MAP_DATA	96727000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5463589
+SHUFFLE	COMPRESS_BYTE_COUNT	1698404
+SHUFFLE	COPY_MAP_DATA	255093000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5487608
+SHUFFLE	COMPRESS_BYTE_COUNT	1706184
+SHUFFLE	COPY_MAP_DATA	134839000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5496519
+SHUFFLE	COMPRESS_BYTE_COUNT	1731974
+SHUFFLE	COPY_MAP_DATA	87202000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5501212
+SHUFFLE	COMPRESS_BYTE_COUNT	1731812
+SHUFFLE	COPY_MAP_DATA	101216000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5506192
+SHUFFLE	COMPRESS_BYTE_COUNT	1711508
+SHUFFLE	COPY_MAP_DATA	208018000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5514219
+SHUFFLE	COMPRESS_BYTE_COUNT	1714096
+SHUFFLE	COPY_MAP_DATA	88451000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5528818
+SHUFFLE	COMPRESS_BYTE_COUNT	1718426
+SHUFFLE	COPY_MAP_DATA	250542000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5508134
+SHUFFLE	COMPRESS_BYTE_COUNT	1711861
+SHUFFLE	COPY_MAP_DATA	243376000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5453358
+SHUFFLE	COMPRESS_BYTE_COUNT	1696410
+SHUFFLE	COPY_MAP_DATA	99891000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5506149
+SHUFFLE	COMPRESS_BYTE_COUNT	1711364
+SHUFFLE	COPY_MAP_DATA	182055000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5489455
+SHUFFLE	COMPRESS_BYTE_COUNT	1706278
+SHUFFLE	COPY_MAP_DATA	279835000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5541300
+SHUFFLE	COMPRESS_BYTE_COUNT	1722582
+SHUFFLE	COPY_MAP_DATA	311741000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5436260
+SHUFFLE	COMPRESS_BYTE_COUNT	1689968
+SHUFFLE	COPY_MAP_DATA	176811000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5478960
+SHUFFLE	COMPRESS_BYTE_COUNT	1702603
+SHUFFLE	COPY_MAP_DATA	104697000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5508803
+SHUFFLE	COMPRESS_BYTE_COUNT	1712525
+SHUFFLE	COPY_MAP_DATA	265099000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5500611
+SHUFFLE	COMPRESS_BYTE_COUNT	1710734
+SHUFFLE	COPY_MAP_DATA	889781000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5469467
+SHUFFLE	COMPRESS_BYTE_COUNT	1699487
+SHUFFLE	COPY_MAP_DATA	168192000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5430486
+SHUFFLE	COMPRESS_BYTE_COUNT	1737749
+SHUFFLE	COPY_MAP_DATA	131589000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5515147
+SHUFFLE	COMPRESS_BYTE_COUNT	1715098
+SHUFFLE	COPY_MAP_DATA	209576000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5509300
+SHUFFLE	COMPRESS_BYTE_COUNT	1712675
+SHUFFLE	COPY_MAP_DATA	238658000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5559107
+SHUFFLE	COMPRESS_BYTE_COUNT	1705525
+SHUFFLE	COPY_MAP_DATA	109087000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5576393
+SHUFFLE	COMPRESS_BYTE_COUNT	1711938
+SHUFFLE	COPY_MAP_DATA	88145000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5528414
+SHUFFLE	COMPRESS_BYTE_COUNT	1718451
+SHUFFLE	COPY_MAP_DATA	335379000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5586398
+SHUFFLE	COMPRESS_BYTE_COUNT	1735706
+SHUFFLE	COPY_MAP_DATA	107630000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5529730
+SHUFFLE	COMPRESS_BYTE_COUNT	1718233
+SHUFFLE	COPY_MAP_DATA	178363000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5499273
+SHUFFLE	COMPRESS_BYTE_COUNT	1708509
+SHUFFLE	COPY_MAP_DATA	89836000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5537598
+SHUFFLE	COMPRESS_BYTE_COUNT	1721628
+SHUFFLE	COPY_MAP_DATA	2162423000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5512841
+SHUFFLE	COMPRESS_BYTE_COUNT	1691944
+SHUFFLE	COPY_MAP_DATA	135101000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5545717
+SHUFFLE	COMPRESS_BYTE_COUNT	1702258
+SHUFFLE	COPY_MAP_DATA	127278000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5490111
+SHUFFLE	COMPRESS_BYTE_COUNT	1708204
+SHUFFLE	COPY_MAP_DATA	280576000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5539423
+SHUFFLE	COMPRESS_BYTE_COUNT	1743718
+SHUFFLE	COPY_MAP_DATA	177382000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5528550
+SHUFFLE	COMPRESS_BYTE_COUNT	1717943
+SHUFFLE	COPY_MAP_DATA	91775000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5548857
+SHUFFLE	COMPRESS_BYTE_COUNT	1724493
+SHUFFLE	COPY_MAP_DATA	694173000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5530781
+SHUFFLE	COMPRESS_BYTE_COUNT	1695914
+SHUFFLE	COPY_MAP_DATA	1410064000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5574440
+SHUFFLE	COMPRESS_BYTE_COUNT	1710752
+SHUFFLE	COPY_MAP_DATA	2059965000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5485535
+SHUFFLE	COMPRESS_BYTE_COUNT	1706329
+SHUFFLE	COPY_MAP_DATA	86993000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5498208
+SHUFFLE	COMPRESS_BYTE_COUNT	1708542
+SHUFFLE	COPY_MAP_DATA	9045609167
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5484585
+SHUFFLE	COMPRESS_BYTE_COUNT	1684461
+SHUFFLE	COPY_MAP_DATA	213331000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5505318
+SHUFFLE	COMPRESS_BYTE_COUNT	1711582
+SHUFFLE	COPY_MAP_DATA	1595650000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5522808
+SHUFFLE	COMPRESS_BYTE_COUNT	1695902
+SHUFFLE	COPY_MAP_DATA	96359000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5545157
+SHUFFLE	COMPRESS_BYTE_COUNT	1701457
+SHUFFLE	COPY_MAP_DATA	129358000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5552876
+SHUFFLE	COMPRESS_BYTE_COUNT	1704457
+SHUFFLE	COPY_MAP_DATA	467801000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5491381
+SHUFFLE	COMPRESS_BYTE_COUNT	1706653
+SHUFFLE	COPY_MAP_DATA	147637000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5539401
+SHUFFLE	COMPRESS_BYTE_COUNT	1718915
+SHUFFLE	COPY_MAP_DATA	190112000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5460866
+SHUFFLE	COMPRESS_BYTE_COUNT	1698127
+SHUFFLE	COPY_MAP_DATA	170582000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5565625
+SHUFFLE	COMPRESS_BYTE_COUNT	1709446
+SHUFFLE	COPY_MAP_DATA	615293000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5536688
+SHUFFLE	COMPRESS_BYTE_COUNT	1700176
+SHUFFLE	COPY_MAP_DATA	402991000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5485098
+SHUFFLE	COMPRESS_BYTE_COUNT	1684723
+SHUFFLE	COPY_MAP_DATA	700793000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5592817
+SHUFFLE	COMPRESS_BYTE_COUNT	1715776
+SHUFFLE	COPY_MAP_DATA	243082000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5534573
+SHUFFLE	COMPRESS_BYTE_COUNT	1699358
+SHUFFLE	COPY_MAP_DATA	3794634000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5542658
+SHUFFLE	COMPRESS_BYTE_COUNT	1701577
+SHUFFLE	COPY_MAP_DATA	360433000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5538285
+SHUFFLE	COMPRESS_BYTE_COUNT	1700353
+SHUFFLE	COPY_MAP_DATA	85143000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5554207
+SHUFFLE	COMPRESS_BYTE_COUNT	1704267
+SHUFFLE	COPY_MAP_DATA	376104395
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5540324
+SHUFFLE	COMPRESS_BYTE_COUNT	1700803
+SHUFFLE	COPY_MAP_DATA	207234000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5475441
+SHUFFLE	COMPRESS_BYTE_COUNT	1680849
+SHUFFLE	COPY_MAP_DATA	607978000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5437169
+SHUFFLE	COMPRESS_BYTE_COUNT	1709039
+SHUFFLE	COPY_MAP_DATA	118758000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5510155
+SHUFFLE	COMPRESS_BYTE_COUNT	1734326
+SHUFFLE	COPY_MAP_DATA	100010000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5547265
+SHUFFLE	COMPRESS_BYTE_COUNT	1701798
+SHUFFLE	COPY_MAP_DATA	93675000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5578086
+SHUFFLE	COMPRESS_BYTE_COUNT	1712188
+SHUFFLE	COPY_MAP_DATA	409122000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5593810
+SHUFFLE	COMPRESS_BYTE_COUNT	1716457
+SHUFFLE	COPY_MAP_DATA	196545000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5586521
+SHUFFLE	COMPRESS_BYTE_COUNT	1714709
+SHUFFLE	COPY_MAP_DATA	238134000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5538850
+SHUFFLE	COMPRESS_BYTE_COUNT	1700175
+SHUFFLE	COPY_MAP_DATA	96923000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5549914
+SHUFFLE	COMPRESS_BYTE_COUNT	1704106
+SHUFFLE	COPY_MAP_DATA	158237000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5521987
+SHUFFLE	COMPRESS_BYTE_COUNT	1695389
+SHUFFLE	COPY_MAP_DATA	166478000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5586182
+SHUFFLE	COMPRESS_BYTE_COUNT	1714296
+SHUFFLE	COPY_MAP_DATA	185293000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5517925
+SHUFFLE	COMPRESS_BYTE_COUNT	1693962
+SHUFFLE	COPY_MAP_DATA	191373000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5556464
+SHUFFLE	COMPRESS_BYTE_COUNT	1705449
+SHUFFLE	COPY_MAP_DATA	531336000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5518369
+SHUFFLE	COMPRESS_BYTE_COUNT	1694194
+SHUFFLE	COPY_MAP_DATA	181650000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5573935
+SHUFFLE	COMPRESS_BYTE_COUNT	1711649
+SHUFFLE	COPY_MAP_DATA	992719000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5591487
+SHUFFLE	COMPRESS_BYTE_COUNT	1716282
+SHUFFLE	COPY_MAP_DATA	226878000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5527437
+SHUFFLE	COMPRESS_BYTE_COUNT	1741210
+SHUFFLE	COPY_MAP_DATA	92691000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5568414
+SHUFFLE	COMPRESS_BYTE_COUNT	1707862
+SHUFFLE	COPY_MAP_DATA	3035094000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5559778
+SHUFFLE	COMPRESS_BYTE_COUNT	1708128
+SHUFFLE	COPY_MAP_DATA	100788000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5618915
+SHUFFLE	COMPRESS_BYTE_COUNT	1725053
+SHUFFLE	COPY_MAP_DATA	110760000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5559073
+SHUFFLE	COMPRESS_BYTE_COUNT	1707051
+SHUFFLE	COPY_MAP_DATA	101819000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5532558
+SHUFFLE	COMPRESS_BYTE_COUNT	1698589
+SHUFFLE	COPY_MAP_DATA	180523000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5499531
+SHUFFLE	COMPRESS_BYTE_COUNT	1687341
+SHUFFLE	COPY_MAP_DATA	2478212151
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5520961
+SHUFFLE	COMPRESS_BYTE_COUNT	1694795
+SHUFFLE	COPY_MAP_DATA	527784000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5551254
+SHUFFLE	COMPRESS_BYTE_COUNT	1705012
+SHUFFLE	COPY_MAP_DATA	184314000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5509623
+SHUFFLE	COMPRESS_BYTE_COUNT	1691557
+SHUFFLE	COPY_MAP_DATA	104451000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5614192
+SHUFFLE	COMPRESS_BYTE_COUNT	1723547
+SHUFFLE	COPY_MAP_DATA	98723000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5543278
+SHUFFLE	COMPRESS_BYTE_COUNT	1702199
+SHUFFLE	COPY_MAP_DATA	104088000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5543752
+SHUFFLE	COMPRESS_BYTE_COUNT	1701394
+SHUFFLE	COPY_MAP_DATA	2064518000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5498176
+SHUFFLE	COMPRESS_BYTE_COUNT	1688261
+SHUFFLE	COPY_MAP_DATA	392424000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5488926
+SHUFFLE	COMPRESS_BYTE_COUNT	1707175
+SHUFFLE	COPY_MAP_DATA	162821000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5538427
+SHUFFLE	COMPRESS_BYTE_COUNT	1699660
+SHUFFLE	COPY_MAP_DATA	279280000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5543580
+SHUFFLE	COMPRESS_BYTE_COUNT	1702358
+SHUFFLE	COPY_MAP_DATA	90409000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5574153
+SHUFFLE	COMPRESS_BYTE_COUNT	1710876
+SHUFFLE	COPY_MAP_DATA	236707000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5533552
+SHUFFLE	COMPRESS_BYTE_COUNT	1718645
+SHUFFLE	COPY_MAP_DATA	92619000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5538873
+SHUFFLE	COMPRESS_BYTE_COUNT	1699649
+SHUFFLE	COPY_MAP_DATA	96656000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5587137
+SHUFFLE	COMPRESS_BYTE_COUNT	1715708
+SHUFFLE	COPY_MAP_DATA	509976000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5531838
+SHUFFLE	COMPRESS_BYTE_COUNT	1697535
+SHUFFLE	COPY_MAP_DATA	107224000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5592938
+SHUFFLE	COMPRESS_BYTE_COUNT	1716687
+SHUFFLE	COPY_MAP_DATA	167992000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5566303
+SHUFFLE	COMPRESS_BYTE_COUNT	1708515
+SHUFFLE	COPY_MAP_DATA	383897000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5480254
+SHUFFLE	COMPRESS_BYTE_COUNT	1703645
+SHUFFLE	COPY_MAP_DATA	117933000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5526819
+SHUFFLE	COMPRESS_BYTE_COUNT	1697454
+SHUFFLE	COPY_MAP_DATA	88108000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5532485
+SHUFFLE	COMPRESS_BYTE_COUNT	1698149
+SHUFFLE	COPY_MAP_DATA	99330000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5554499
+SHUFFLE	COMPRESS_BYTE_COUNT	1705122
+SHUFFLE	COPY_MAP_DATA	406111000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5479535
+SHUFFLE	COMPRESS_BYTE_COUNT	1702858
+SHUFFLE	COPY_MAP_DATA	804770000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5507096
+SHUFFLE	COMPRESS_BYTE_COUNT	1710813
+SHUFFLE	COPY_MAP_DATA	562112000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5480653
+SHUFFLE	COMPRESS_BYTE_COUNT	1683073
+SHUFFLE	COPY_MAP_DATA	93077000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5524571
+SHUFFLE	COMPRESS_BYTE_COUNT	1716152
+SHUFFLE	COPY_MAP_DATA	2254163000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5508943
+SHUFFLE	COMPRESS_BYTE_COUNT	1691782
+SHUFFLE	COPY_MAP_DATA	283100000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5493936
+SHUFFLE	COMPRESS_BYTE_COUNT	1707794
+SHUFFLE	COPY_MAP_DATA	96014000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5521574
+SHUFFLE	COMPRESS_BYTE_COUNT	1695370
+SHUFFLE	COPY_MAP_DATA	121181000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5502612
+SHUFFLE	COMPRESS_BYTE_COUNT	1689623
+SHUFFLE	COPY_MAP_DATA	88413000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5520748
+SHUFFLE	COMPRESS_BYTE_COUNT	1694916
+SHUFFLE	COPY_MAP_DATA	88743000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5519622
+SHUFFLE	COMPRESS_BYTE_COUNT	1714039
+SHUFFLE	COPY_MAP_DATA	206350000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5556977
+SHUFFLE	COMPRESS_BYTE_COUNT	1726483
+SHUFFLE	COPY_MAP_DATA	95715000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5514628
+SHUFFLE	COMPRESS_BYTE_COUNT	1713867
+SHUFFLE	COPY_MAP_DATA	1063157000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5513449
+SHUFFLE	COMPRESS_BYTE_COUNT	1693008
+SHUFFLE	COPY_MAP_DATA	248773000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5561598
+SHUFFLE	COMPRESS_BYTE_COUNT	1707076
+SHUFFLE	COPY_MAP_DATA	1278896000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5574616
+SHUFFLE	COMPRESS_BYTE_COUNT	1731936
+SHUFFLE	COPY_MAP_DATA	120571000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5491112
+SHUFFLE	COMPRESS_BYTE_COUNT	1706101
+SHUFFLE	COPY_MAP_DATA	364037000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5542877
+SHUFFLE	COMPRESS_BYTE_COUNT	1723562
+SHUFFLE	COPY_MAP_DATA	204503000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5475633
+SHUFFLE	COMPRESS_BYTE_COUNT	1702887
+SHUFFLE	COPY_MAP_DATA	573611000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5570235
+SHUFFLE	COMPRESS_BYTE_COUNT	1730518
+SHUFFLE	COPY_MAP_DATA	95959000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5543506
+SHUFFLE	COMPRESS_BYTE_COUNT	1723450
+SHUFFLE	COPY_MAP_DATA	504292000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5575669
+SHUFFLE	COMPRESS_BYTE_COUNT	1732587
+SHUFFLE	COPY_MAP_DATA	457303000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5531998
+SHUFFLE	COMPRESS_BYTE_COUNT	1698166
+SHUFFLE	COPY_MAP_DATA	178138000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5548695
+SHUFFLE	COMPRESS_BYTE_COUNT	1723999
+SHUFFLE	COPY_MAP_DATA	300831000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5553811
+SHUFFLE	COMPRESS_BYTE_COUNT	1726081
+SHUFFLE	COPY_MAP_DATA	121682000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5567793
+SHUFFLE	COMPRESS_BYTE_COUNT	1729346
+SHUFFLE	COPY_MAP_DATA	89422000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5452421
+SHUFFLE	COMPRESS_BYTE_COUNT	1695007
+SHUFFLE	COPY_MAP_DATA	351949000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5495694
+SHUFFLE	COMPRESS_BYTE_COUNT	1708158
+SHUFFLE	COPY_MAP_DATA	103661000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5513131
+SHUFFLE	COMPRESS_BYTE_COUNT	1713189
+SHUFFLE	COPY_MAP_DATA	126871000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5565453
+SHUFFLE	COMPRESS_BYTE_COUNT	1733720
+SHUFFLE	COPY_MAP_DATA	176828000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5561011
+SHUFFLE	COMPRESS_BYTE_COUNT	1726459
+SHUFFLE	COPY_MAP_DATA	297357000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5483712
+SHUFFLE	COMPRESS_BYTE_COUNT	1704402
+SHUFFLE	COPY_MAP_DATA	106190000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5577880
+SHUFFLE	COMPRESS_BYTE_COUNT	1732969
+SHUFFLE	COPY_MAP_DATA	234616000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5533806
+SHUFFLE	COMPRESS_BYTE_COUNT	1720242
+SHUFFLE	COPY_MAP_DATA	119092000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5534491
+SHUFFLE	COMPRESS_BYTE_COUNT	1720480
+SHUFFLE	COPY_MAP_DATA	332103000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5528110
+SHUFFLE	COMPRESS_BYTE_COUNT	1719279
+SHUFFLE	COPY_MAP_DATA	204796000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5549637
+SHUFFLE	COMPRESS_BYTE_COUNT	1727865
+SHUFFLE	COPY_MAP_DATA	189324000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5466672
+SHUFFLE	COMPRESS_BYTE_COUNT	1698592
+SHUFFLE	COPY_MAP_DATA	84102000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5543770
+SHUFFLE	COMPRESS_BYTE_COUNT	1728149
+SHUFFLE	COPY_MAP_DATA	109320000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5539932
+SHUFFLE	COMPRESS_BYTE_COUNT	1721166
+SHUFFLE	COPY_MAP_DATA	257225000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5509868
+SHUFFLE	COMPRESS_BYTE_COUNT	1711227
+SHUFFLE	COPY_MAP_DATA	215579000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5457328
+SHUFFLE	COMPRESS_BYTE_COUNT	1697240
+SHUFFLE	COPY_MAP_DATA	737204000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5554720
+SHUFFLE	COMPRESS_BYTE_COUNT	1729614
+SHUFFLE	COPY_MAP_DATA	103839000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5524054
+SHUFFLE	COMPRESS_BYTE_COUNT	1738249
+SHUFFLE	COPY_MAP_DATA	894420000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5574704
+SHUFFLE	COMPRESS_BYTE_COUNT	1736488
+SHUFFLE	COPY_MAP_DATA	310679000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5482531
+SHUFFLE	COMPRESS_BYTE_COUNT	1703719
+SHUFFLE	COPY_MAP_DATA	94725000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5578648
+SHUFFLE	COMPRESS_BYTE_COUNT	1734146
+SHUFFLE	COPY_MAP_DATA	755151000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5556147
+SHUFFLE	COMPRESS_BYTE_COUNT	1728924
+SHUFFLE	COPY_MAP_DATA	123289000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5550032
+SHUFFLE	COMPRESS_BYTE_COUNT	1728763
+SHUFFLE	COPY_MAP_DATA	90638000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5588039
+SHUFFLE	COMPRESS_BYTE_COUNT	1725617
+SHUFFLE	COPY_MAP_DATA	88031000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5502922
+SHUFFLE	COMPRESS_BYTE_COUNT	1744775
+SHUFFLE	COPY_MAP_DATA	92417000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5595824
+SHUFFLE	COMPRESS_BYTE_COUNT	1728250
+SHUFFLE	COPY_MAP_DATA	89391000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4737955
+SHUFFLE	COMPRESS_BYTE_COUNT	1454458
+SHUFFLE	COPY_MAP_DATA	108006000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4455805
+SHUFFLE	COMPRESS_BYTE_COUNT	1385257
+SHUFFLE	COPY_MAP_DATA	165090000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5594107
+SHUFFLE	COMPRESS_BYTE_COUNT	1727930
+SHUFFLE	COPY_MAP_DATA	145451000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4725802
+SHUFFLE	COMPRESS_BYTE_COUNT	1449754
+SHUFFLE	COPY_MAP_DATA	503933000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5590231
+SHUFFLE	COMPRESS_BYTE_COUNT	1725524
+SHUFFLE	COPY_MAP_DATA	105388000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5584649
+SHUFFLE	COMPRESS_BYTE_COUNT	1723946
+SHUFFLE	COPY_MAP_DATA	188295000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5591814
+SHUFFLE	COMPRESS_BYTE_COUNT	1726668
+SHUFFLE	COPY_MAP_DATA	248559000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5584359
+SHUFFLE	COMPRESS_BYTE_COUNT	1724091
+SHUFFLE	COPY_MAP_DATA	125408000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4756229
+SHUFFLE	COMPRESS_BYTE_COUNT	1459314
+SHUFFLE	COPY_MAP_DATA	95525000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4497827
+SHUFFLE	COMPRESS_BYTE_COUNT	1399217
+SHUFFLE	COPY_MAP_DATA	229820000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5583612
+SHUFFLE	COMPRESS_BYTE_COUNT	1724311
+SHUFFLE	COPY_MAP_DATA	324979000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5583075
+SHUFFLE	COMPRESS_BYTE_COUNT	1722898
+SHUFFLE	COPY_MAP_DATA	82765000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5542660
+SHUFFLE	COMPRESS_BYTE_COUNT	1728219
+SHUFFLE	COPY_MAP_DATA	145310000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4808385
+SHUFFLE	COMPRESS_BYTE_COUNT	1476306
+SHUFFLE	COPY_MAP_DATA	242409000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5587012
+SHUFFLE	COMPRESS_BYTE_COUNT	1724386
+SHUFFLE	COPY_MAP_DATA	83043000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5596189
+SHUFFLE	COMPRESS_BYTE_COUNT	1727553
+SHUFFLE	COPY_MAP_DATA	147125000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4789514
+SHUFFLE	COMPRESS_BYTE_COUNT	1470771
+SHUFFLE	COPY_MAP_DATA	224452000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4739974
+SHUFFLE	COMPRESS_BYTE_COUNT	1454266
+SHUFFLE	COPY_MAP_DATA	90746000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4751416
+SHUFFLE	COMPRESS_BYTE_COUNT	1457883
+SHUFFLE	COPY_MAP_DATA	213744000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5560730
+SHUFFLE	COMPRESS_BYTE_COUNT	1731984
+SHUFFLE	COPY_MAP_DATA	340291000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5556962
+SHUFFLE	COMPRESS_BYTE_COUNT	1731426
+SHUFFLE	COPY_MAP_DATA	2385016000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5586594
+SHUFFLE	COMPRESS_BYTE_COUNT	1725505
+SHUFFLE	COPY_MAP_DATA	353180000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5552669
+SHUFFLE	COMPRESS_BYTE_COUNT	1729233
+SHUFFLE	COPY_MAP_DATA	89814000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1737933
+SHUFFLE	COMPRESS_BYTE_COUNT	537266
+SHUFFLE	COPY_MAP_DATA	35953000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5560315
+SHUFFLE	COMPRESS_BYTE_COUNT	1732696
+SHUFFLE	COPY_MAP_DATA	230740000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4745013
+SHUFFLE	COMPRESS_BYTE_COUNT	1456565
+SHUFFLE	COPY_MAP_DATA	149575000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5564580
+SHUFFLE	COMPRESS_BYTE_COUNT	1732830
+SHUFFLE	COPY_MAP_DATA	332195000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4754286
+SHUFFLE	COMPRESS_BYTE_COUNT	1459214
+SHUFFLE	COPY_MAP_DATA	77835000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4469640
+SHUFFLE	COMPRESS_BYTE_COUNT	1390366
+SHUFFLE	COPY_MAP_DATA	72446000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5543537
+SHUFFLE	COMPRESS_BYTE_COUNT	1726497
+SHUFFLE	COPY_MAP_DATA	148497000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4467386
+SHUFFLE	COMPRESS_BYTE_COUNT	1388449
+SHUFFLE	COPY_MAP_DATA	105713000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4469261
+SHUFFLE	COMPRESS_BYTE_COUNT	1389132
+SHUFFLE	COPY_MAP_DATA	69419000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5597560
+SHUFFLE	COMPRESS_BYTE_COUNT	1725909
+SHUFFLE	COPY_MAP_DATA	407086000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4286595
+SHUFFLE	COMPRESS_BYTE_COUNT	1332537
+SHUFFLE	COPY_MAP_DATA	1384816000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4440920
+SHUFFLE	COMPRESS_BYTE_COUNT	1380195
+SHUFFLE	COPY_MAP_DATA	111938000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1743636
+SHUFFLE	COMPRESS_BYTE_COUNT	538504
+SHUFFLE	COPY_MAP_DATA	746390000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1737083
+SHUFFLE	COMPRESS_BYTE_COUNT	537812
+SHUFFLE	COPY_MAP_DATA	167749000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1660433
+SHUFFLE	COMPRESS_BYTE_COUNT	518263
+SHUFFLE	COPY_MAP_DATA	344817000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1741816
+SHUFFLE	COMPRESS_BYTE_COUNT	538946
+SHUFFLE	COPY_MAP_DATA	30038000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1740202
+SHUFFLE	COMPRESS_BYTE_COUNT	538477
+SHUFFLE	COPY_MAP_DATA	41600000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1740948
+SHUFFLE	COMPRESS_BYTE_COUNT	538009
+SHUFFLE	COPY_MAP_DATA	39903000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1666330
+SHUFFLE	COMPRESS_BYTE_COUNT	519996
+SHUFFLE	COPY_MAP_DATA	30327000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1741762
+SHUFFLE	COMPRESS_BYTE_COUNT	538307
+SHUFFLE	COPY_MAP_DATA	61518000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5560481
+SHUFFLE	COMPRESS_BYTE_COUNT	1732741
+SHUFFLE	COPY_MAP_DATA	94906000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4733181
+SHUFFLE	COMPRESS_BYTE_COUNT	1452448
+SHUFFLE	COPY_MAP_DATA	656173000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4442061
+SHUFFLE	COMPRESS_BYTE_COUNT	1380124
+SHUFFLE	COPY_MAP_DATA	1994162000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1745008
+SHUFFLE	COMPRESS_BYTE_COUNT	539058
+SHUFFLE	COPY_MAP_DATA	29604000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1744143
+SHUFFLE	COMPRESS_BYTE_COUNT	539661
+SHUFFLE	COPY_MAP_DATA	81551000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1663625
+SHUFFLE	COMPRESS_BYTE_COUNT	519041
+SHUFFLE	COPY_MAP_DATA	27984000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4448238
+SHUFFLE	COMPRESS_BYTE_COUNT	1382778
+SHUFFLE	COPY_MAP_DATA	69676000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1659983
+SHUFFLE	COMPRESS_BYTE_COUNT	517501
+SHUFFLE	COPY_MAP_DATA	158374000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1662716
+SHUFFLE	COMPRESS_BYTE_COUNT	518656
+SHUFFLE	COPY_MAP_DATA	44900000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1665695
+SHUFFLE	COMPRESS_BYTE_COUNT	519792
+SHUFFLE	COPY_MAP_DATA	29012000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4512358
+SHUFFLE	COMPRESS_BYTE_COUNT	1385233
+SHUFFLE	COPY_MAP_DATA	331334000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1664398
+SHUFFLE	COMPRESS_BYTE_COUNT	519553
+SHUFFLE	COPY_MAP_DATA	29180000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4743608
+SHUFFLE	COMPRESS_BYTE_COUNT	1456776
+SHUFFLE	COPY_MAP_DATA	109303000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4461334
+SHUFFLE	COMPRESS_BYTE_COUNT	1386084
+SHUFFLE	COPY_MAP_DATA	78822000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4765755
+SHUFFLE	COMPRESS_BYTE_COUNT	1463774
+SHUFFLE	COPY_MAP_DATA	390027000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4425940
+SHUFFLE	COMPRESS_BYTE_COUNT	1375700
+SHUFFLE	COPY_MAP_DATA	90859000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4142332
+SHUFFLE	COMPRESS_BYTE_COUNT	1304460
+SHUFFLE	COPY_MAP_DATA	1310027000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4432230
+SHUFFLE	COMPRESS_BYTE_COUNT	1377471
+SHUFFLE	COPY_MAP_DATA	119331000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4436585
+SHUFFLE	COMPRESS_BYTE_COUNT	1379208
+SHUFFLE	COPY_MAP_DATA	77077000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4703889
+SHUFFLE	COMPRESS_BYTE_COUNT	1444715
+SHUFFLE	COPY_MAP_DATA	78453835
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1737217
+SHUFFLE	COMPRESS_BYTE_COUNT	537505
+SHUFFLE	COPY_MAP_DATA	365832000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1737989
+SHUFFLE	COMPRESS_BYTE_COUNT	537172
+SHUFFLE	COPY_MAP_DATA	32924000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1657463
+SHUFFLE	COMPRESS_BYTE_COUNT	517585
+SHUFFLE	COPY_MAP_DATA	40263000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4396740
+SHUFFLE	COMPRESS_BYTE_COUNT	1365171
+SHUFFLE	COPY_MAP_DATA	646363000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1666974
+SHUFFLE	COMPRESS_BYTE_COUNT	520666
+SHUFFLE	COPY_MAP_DATA	26794000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1732684
+SHUFFLE	COMPRESS_BYTE_COUNT	535902
+SHUFFLE	COPY_MAP_DATA	253470000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1667377
+SHUFFLE	COMPRESS_BYTE_COUNT	520159
+SHUFFLE	COPY_MAP_DATA	28423000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1735473
+SHUFFLE	COMPRESS_BYTE_COUNT	536412
+SHUFFLE	COPY_MAP_DATA	891631000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1581592
+SHUFFLE	COMPRESS_BYTE_COUNT	499172
+SHUFFLE	COPY_MAP_DATA	75176000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1662021
+SHUFFLE	COMPRESS_BYTE_COUNT	518940
+SHUFFLE	COPY_MAP_DATA	33177000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1667225
+SHUFFLE	COMPRESS_BYTE_COUNT	519595
+SHUFFLE	COPY_MAP_DATA	28894000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1697540
+SHUFFLE	COMPRESS_BYTE_COUNT	524384
+SHUFFLE	COPY_MAP_DATA	28837000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1666210
+SHUFFLE	COMPRESS_BYTE_COUNT	519692
+SHUFFLE	COPY_MAP_DATA	30843000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1622134
+SHUFFLE	COMPRESS_BYTE_COUNT	506274
+SHUFFLE	COPY_MAP_DATA	28287000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1663251
+SHUFFLE	COMPRESS_BYTE_COUNT	519199
+SHUFFLE	COPY_MAP_DATA	28390000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4461629
+SHUFFLE	COMPRESS_BYTE_COUNT	1386125
+SHUFFLE	COPY_MAP_DATA	72188000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	488116890166
+MERGE	READ_WRITE	484650989166
+MERGE	READ_WRITE_COUNT	8
+MERGE	COMBINE	0
+MERGE	WRITE	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	12484011000
+SORT	READ_WRITE	12280440000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	217738968
+REDUCE	SETUP	416000
+REDUCE	SETUP_MEM	217738968
+REDUCE	CLEANUP	39000
+REDUCE	CLEANUP_MEM	224296176
+REDUCE	TOTAL_RUN	463918795197
+REDUCE	READ	8300790000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	443227060197
+REDUCE	WRITE	247919418658
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	55888916
+REDUCE	VALUE_BYTE_COUNT	1647890764
+REDUCE	REDUCE_MEM	224296176
+REDUCE	WRITE	37220000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	1148227064244
@@ -0,0 +1,989 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5547698
+SHUFFLE	COMPRESS_BYTE_COUNT	1723090
+SHUFFLE	COPY_MAP_DATA	140401000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5513912
+SHUFFLE	COMPRESS_BYTE_COUNT	1713092
+SHUFFLE	COPY_MAP_DATA	1998749000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5526371
+SHUFFLE	COMPRESS_BYTE_COUNT	1717900
+SHUFFLE	COPY_MAP_DATA	471760000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5515691
+SHUFFLE	COMPRESS_BYTE_COUNT	1736571
+SHUFFLE	COPY_MAP_DATA	153141000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5471841
+SHUFFLE	COMPRESS_BYTE_COUNT	1701789
+SHUFFLE	COPY_MAP_DATA	332494000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5528411
+SHUFFLE	COMPRESS_BYTE_COUNT	1717349
+SHUFFLE	COPY_MAP_DATA	278840000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5530427
+SHUFFLE	COMPRESS_BYTE_COUNT	1718543
+SHUFFLE	COPY_MAP_DATA	1071657000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5484268
+SHUFFLE	COMPRESS_BYTE_COUNT	1726820
+SHUFFLE	COPY_MAP_DATA	126432000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5537861
+SHUFFLE	COMPRESS_BYTE_COUNT	1721061
+SHUFFLE	COPY_MAP_DATA	281299000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5566781
+SHUFFLE	COMPRESS_BYTE_COUNT	1730586
+SHUFFLE	COPY_MAP_DATA	169116000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5516885
+SHUFFLE	COMPRESS_BYTE_COUNT	1714591
+SHUFFLE	COPY_MAP_DATA	187165000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5556773
+SHUFFLE	COMPRESS_BYTE_COUNT	1706050
+SHUFFLE	COPY_MAP_DATA	152944000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5534369
+SHUFFLE	COMPRESS_BYTE_COUNT	1721822
+SHUFFLE	COPY_MAP_DATA	232955000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5505934
+SHUFFLE	COMPRESS_BYTE_COUNT	1711252
+SHUFFLE	COPY_MAP_DATA	464290000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5504339
+SHUFFLE	COMPRESS_BYTE_COUNT	1710481
+SHUFFLE	COPY_MAP_DATA	192649000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5519340
+SHUFFLE	COMPRESS_BYTE_COUNT	1717175
+SHUFFLE	COPY_MAP_DATA	330857000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5578166
+SHUFFLE	COMPRESS_BYTE_COUNT	1733371
+SHUFFLE	COPY_MAP_DATA	151888000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5533621
+SHUFFLE	COMPRESS_BYTE_COUNT	1721000
+SHUFFLE	COPY_MAP_DATA	87478000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5547643
+SHUFFLE	COMPRESS_BYTE_COUNT	1724432
+SHUFFLE	COPY_MAP_DATA	163673000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5470778
+SHUFFLE	COMPRESS_BYTE_COUNT	1722373
+SHUFFLE	COPY_MAP_DATA	291740000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5522306
+SHUFFLE	COMPRESS_BYTE_COUNT	1738721
+SHUFFLE	COPY_MAP_DATA	85010000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5472972
+SHUFFLE	COMPRESS_BYTE_COUNT	1701161
+SHUFFLE	COPY_MAP_DATA	83356000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5500218
+SHUFFLE	COMPRESS_BYTE_COUNT	1708786
+SHUFFLE	COPY_MAP_DATA	360350000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5457316
+SHUFFLE	COMPRESS_BYTE_COUNT	1697872
+SHUFFLE	COPY_MAP_DATA	209797000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5521653
+SHUFFLE	COMPRESS_BYTE_COUNT	1715692
+SHUFFLE	COPY_MAP_DATA	144251000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5579475
+SHUFFLE	COMPRESS_BYTE_COUNT	1734978
+SHUFFLE	COPY_MAP_DATA	353054000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5546584
+SHUFFLE	COMPRESS_BYTE_COUNT	1724038
+SHUFFLE	COPY_MAP_DATA	244297000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5500591
+SHUFFLE	COMPRESS_BYTE_COUNT	1708963
+SHUFFLE	COPY_MAP_DATA	255109000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5453658
+SHUFFLE	COMPRESS_BYTE_COUNT	1695008
+SHUFFLE	COPY_MAP_DATA	155438000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5450563
+SHUFFLE	COMPRESS_BYTE_COUNT	1743493
+SHUFFLE	COPY_MAP_DATA	302646000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5520333
+SHUFFLE	COMPRESS_BYTE_COUNT	1715079
+SHUFFLE	COPY_MAP_DATA	215971000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5501807
+SHUFFLE	COMPRESS_BYTE_COUNT	1688218
+SHUFFLE	COPY_MAP_DATA	537990000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5497833
+SHUFFLE	COMPRESS_BYTE_COUNT	1709720
+SHUFFLE	COPY_MAP_DATA	529728000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5551230
+SHUFFLE	COMPRESS_BYTE_COUNT	1704174
+SHUFFLE	COPY_MAP_DATA	213988000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5500687
+SHUFFLE	COMPRESS_BYTE_COUNT	1710155
+SHUFFLE	COPY_MAP_DATA	410827000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5548943
+SHUFFLE	COMPRESS_BYTE_COUNT	1723486
+SHUFFLE	COPY_MAP_DATA	90826000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5543720
+SHUFFLE	COMPRESS_BYTE_COUNT	1703003
+SHUFFLE	COPY_MAP_DATA	500583000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5523148
+SHUFFLE	COMPRESS_BYTE_COUNT	1715884
+SHUFFLE	COPY_MAP_DATA	2964331000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5506757
+SHUFFLE	COMPRESS_BYTE_COUNT	1711794
+SHUFFLE	COPY_MAP_DATA	203243000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5503813
+SHUFFLE	COMPRESS_BYTE_COUNT	1709901
+SHUFFLE	COPY_MAP_DATA	127582000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5501066
+SHUFFLE	COMPRESS_BYTE_COUNT	1731378
+SHUFFLE	COPY_MAP_DATA	151746000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5518354
+SHUFFLE	COMPRESS_BYTE_COUNT	1716080
+SHUFFLE	COPY_MAP_DATA	398373000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5502480
+SHUFFLE	COMPRESS_BYTE_COUNT	1710423
+SHUFFLE	COPY_MAP_DATA	93006000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5521024
+SHUFFLE	COMPRESS_BYTE_COUNT	1715985
+SHUFFLE	COPY_MAP_DATA	177534000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5567253
+SHUFFLE	COMPRESS_BYTE_COUNT	1708681
+SHUFFLE	COPY_MAP_DATA	510927000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5529713
+SHUFFLE	COMPRESS_BYTE_COUNT	1718634
+SHUFFLE	COPY_MAP_DATA	2015414000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5537373
+SHUFFLE	COMPRESS_BYTE_COUNT	1700767
+SHUFFLE	COPY_MAP_DATA	90563000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5582277
+SHUFFLE	COMPRESS_BYTE_COUNT	1713686
+SHUFFLE	COPY_MAP_DATA	1532586000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5514488
+SHUFFLE	COMPRESS_BYTE_COUNT	1713038
+SHUFFLE	COPY_MAP_DATA	9191633000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5541989
+SHUFFLE	COMPRESS_BYTE_COUNT	1700579
+SHUFFLE	COPY_MAP_DATA	131235000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5586222
+SHUFFLE	COMPRESS_BYTE_COUNT	1715221
+SHUFFLE	COPY_MAP_DATA	328787000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5465962
+SHUFFLE	COMPRESS_BYTE_COUNT	1699632
+SHUFFLE	COPY_MAP_DATA	1282036000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5520901
+SHUFFLE	COMPRESS_BYTE_COUNT	1695426
+SHUFFLE	COPY_MAP_DATA	87164000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5507149
+SHUFFLE	COMPRESS_BYTE_COUNT	1711695
+SHUFFLE	COPY_MAP_DATA	833612000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5530106
+SHUFFLE	COMPRESS_BYTE_COUNT	1697991
+SHUFFLE	COPY_MAP_DATA	86270000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5546319
+SHUFFLE	COMPRESS_BYTE_COUNT	1721207
+SHUFFLE	COPY_MAP_DATA	4230544888
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5549742
+SHUFFLE	COMPRESS_BYTE_COUNT	1703864
+SHUFFLE	COPY_MAP_DATA	2488042000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5531026
+SHUFFLE	COMPRESS_BYTE_COUNT	1717898
+SHUFFLE	COPY_MAP_DATA	168697000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5582869
+SHUFFLE	COMPRESS_BYTE_COUNT	1714483
+SHUFFLE	COPY_MAP_DATA	832406000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5495816
+SHUFFLE	COMPRESS_BYTE_COUNT	1687522
+SHUFFLE	COPY_MAP_DATA	93647000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5534534
+SHUFFLE	COMPRESS_BYTE_COUNT	1697831
+SHUFFLE	COPY_MAP_DATA	211013000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5520505
+SHUFFLE	COMPRESS_BYTE_COUNT	1695860
+SHUFFLE	COPY_MAP_DATA	1471507000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5513291
+SHUFFLE	COMPRESS_BYTE_COUNT	1692456
+SHUFFLE	COPY_MAP_DATA	179888000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5553073
+SHUFFLE	COMPRESS_BYTE_COUNT	1704965
+SHUFFLE	COPY_MAP_DATA	228797000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5515823
+SHUFFLE	COMPRESS_BYTE_COUNT	1691551
+SHUFFLE	COPY_MAP_DATA	108739000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5531663
+SHUFFLE	COMPRESS_BYTE_COUNT	1697335
+SHUFFLE	COPY_MAP_DATA	89636000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5573293
+SHUFFLE	COMPRESS_BYTE_COUNT	1710014
+SHUFFLE	COPY_MAP_DATA	186906000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5479620
+SHUFFLE	COMPRESS_BYTE_COUNT	1721090
+SHUFFLE	COPY_MAP_DATA	197896000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5474532
+SHUFFLE	COMPRESS_BYTE_COUNT	1723562
+SHUFFLE	COPY_MAP_DATA	97444000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5613023
+SHUFFLE	COMPRESS_BYTE_COUNT	1722321
+SHUFFLE	COPY_MAP_DATA	531780000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5561439
+SHUFFLE	COMPRESS_BYTE_COUNT	1707853
+SHUFFLE	COPY_MAP_DATA	131142000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5591507
+SHUFFLE	COMPRESS_BYTE_COUNT	1716117
+SHUFFLE	COPY_MAP_DATA	184571000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5572812
+SHUFFLE	COMPRESS_BYTE_COUNT	1710749
+SHUFFLE	COPY_MAP_DATA	288635000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5567139
+SHUFFLE	COMPRESS_BYTE_COUNT	1708611
+SHUFFLE	COPY_MAP_DATA	456265000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5586611
+SHUFFLE	COMPRESS_BYTE_COUNT	1715043
+SHUFFLE	COPY_MAP_DATA	90752000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5531732
+SHUFFLE	COMPRESS_BYTE_COUNT	1697927
+SHUFFLE	COPY_MAP_DATA	123621000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5526796
+SHUFFLE	COMPRESS_BYTE_COUNT	1696776
+SHUFFLE	COPY_MAP_DATA	87752000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5544292
+SHUFFLE	COMPRESS_BYTE_COUNT	1701480
+SHUFFLE	COPY_MAP_DATA	433529000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5598191
+SHUFFLE	COMPRESS_BYTE_COUNT	1718431
+SHUFFLE	COPY_MAP_DATA	258032000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5556304
+SHUFFLE	COMPRESS_BYTE_COUNT	1706104
+SHUFFLE	COPY_MAP_DATA	297796000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5577913
+SHUFFLE	COMPRESS_BYTE_COUNT	1711957
+SHUFFLE	COPY_MAP_DATA	111254000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5561271
+SHUFFLE	COMPRESS_BYTE_COUNT	1708131
+SHUFFLE	COPY_MAP_DATA	204002000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5568409
+SHUFFLE	COMPRESS_BYTE_COUNT	1709089
+SHUFFLE	COPY_MAP_DATA	260112000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5524253
+SHUFFLE	COMPRESS_BYTE_COUNT	1738598
+SHUFFLE	COPY_MAP_DATA	91108000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5546289
+SHUFFLE	COMPRESS_BYTE_COUNT	1702906
+SHUFFLE	COPY_MAP_DATA	2030003000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5548273
+SHUFFLE	COMPRESS_BYTE_COUNT	1703788
+SHUFFLE	COPY_MAP_DATA	171226000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5609696
+SHUFFLE	COMPRESS_BYTE_COUNT	1722278
+SHUFFLE	COPY_MAP_DATA	189235000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5514581
+SHUFFLE	COMPRESS_BYTE_COUNT	1692639
+SHUFFLE	COPY_MAP_DATA	1904120000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5560597
+SHUFFLE	COMPRESS_BYTE_COUNT	1706875
+SHUFFLE	COPY_MAP_DATA	253926000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5560324
+SHUFFLE	COMPRESS_BYTE_COUNT	1706561
+SHUFFLE	COPY_MAP_DATA	286703000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5553307
+SHUFFLE	COMPRESS_BYTE_COUNT	1704913
+SHUFFLE	COPY_MAP_DATA	195447000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5543012
+SHUFFLE	COMPRESS_BYTE_COUNT	1700847
+SHUFFLE	COPY_MAP_DATA	102238000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5530735
+SHUFFLE	COMPRESS_BYTE_COUNT	1698822
+SHUFFLE	COPY_MAP_DATA	93800000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5573691
+SHUFFLE	COMPRESS_BYTE_COUNT	1710424
+SHUFFLE	COPY_MAP_DATA	96569000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5555905
+SHUFFLE	COMPRESS_BYTE_COUNT	1704779
+SHUFFLE	COPY_MAP_DATA	263050000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5485554
+SHUFFLE	COMPRESS_BYTE_COUNT	1683909
+SHUFFLE	COPY_MAP_DATA	254561000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5496701
+SHUFFLE	COMPRESS_BYTE_COUNT	1707687
+SHUFFLE	COPY_MAP_DATA	333079000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5507552
+SHUFFLE	COMPRESS_BYTE_COUNT	1690915
+SHUFFLE	COPY_MAP_DATA	269812000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5539606
+SHUFFLE	COMPRESS_BYTE_COUNT	1700590
+SHUFFLE	COPY_MAP_DATA	104957000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5516114
+SHUFFLE	COMPRESS_BYTE_COUNT	1693006
+SHUFFLE	COPY_MAP_DATA	643286000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5544357
+SHUFFLE	COMPRESS_BYTE_COUNT	1700749
+SHUFFLE	COPY_MAP_DATA	530739000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5489011
+SHUFFLE	COMPRESS_BYTE_COUNT	1707194
+SHUFFLE	COPY_MAP_DATA	108074000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5543232
+SHUFFLE	COMPRESS_BYTE_COUNT	1701461
+SHUFFLE	COPY_MAP_DATA	387791000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5546963
+SHUFFLE	COMPRESS_BYTE_COUNT	1702805
+SHUFFLE	COPY_MAP_DATA	721491000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5584479
+SHUFFLE	COMPRESS_BYTE_COUNT	1714186
+SHUFFLE	COPY_MAP_DATA	147820000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5481969
+SHUFFLE	COMPRESS_BYTE_COUNT	1703737
+SHUFFLE	COPY_MAP_DATA	89529000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5576331
+SHUFFLE	COMPRESS_BYTE_COUNT	1711123
+SHUFFLE	COPY_MAP_DATA	540087000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5571878
+SHUFFLE	COMPRESS_BYTE_COUNT	1709608
+SHUFFLE	COPY_MAP_DATA	111560000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5580182
+SHUFFLE	COMPRESS_BYTE_COUNT	1712435
+SHUFFLE	COPY_MAP_DATA	216203000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5584152
+SHUFFLE	COMPRESS_BYTE_COUNT	1713957
+SHUFFLE	COPY_MAP_DATA	97279000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5507611
+SHUFFLE	COMPRESS_BYTE_COUNT	1711776
+SHUFFLE	COPY_MAP_DATA	227752000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5540408
+SHUFFLE	COMPRESS_BYTE_COUNT	1722145
+SHUFFLE	COPY_MAP_DATA	192225000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5479688
+SHUFFLE	COMPRESS_BYTE_COUNT	1682942
+SHUFFLE	COPY_MAP_DATA	823801000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5519249
+SHUFFLE	COMPRESS_BYTE_COUNT	1715686
+SHUFFLE	COPY_MAP_DATA	99309000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5538862
+SHUFFLE	COMPRESS_BYTE_COUNT	1699746
+SHUFFLE	COPY_MAP_DATA	4361886000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5541749
+SHUFFLE	COMPRESS_BYTE_COUNT	1700798
+SHUFFLE	COPY_MAP_DATA	164991000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5503152
+SHUFFLE	COMPRESS_BYTE_COUNT	1711073
+SHUFFLE	COPY_MAP_DATA	91873000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5554839
+SHUFFLE	COMPRESS_BYTE_COUNT	1704764
+SHUFFLE	COPY_MAP_DATA	155995000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5563477
+SHUFFLE	COMPRESS_BYTE_COUNT	1708708
+SHUFFLE	COPY_MAP_DATA	212474000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5526863
+SHUFFLE	COMPRESS_BYTE_COUNT	1717094
+SHUFFLE	COPY_MAP_DATA	676892000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5495796
+SHUFFLE	COMPRESS_BYTE_COUNT	1708029
+SHUFFLE	COPY_MAP_DATA	1267898000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5518360
+SHUFFLE	COMPRESS_BYTE_COUNT	1715379
+SHUFFLE	COPY_MAP_DATA	2249045000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5541113
+SHUFFLE	COMPRESS_BYTE_COUNT	1700418
+SHUFFLE	COPY_MAP_DATA	191806000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5543334
+SHUFFLE	COMPRESS_BYTE_COUNT	1701661
+SHUFFLE	COPY_MAP_DATA	288571000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5464440
+SHUFFLE	COMPRESS_BYTE_COUNT	1698440
+SHUFFLE	COPY_MAP_DATA	311456000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5493786
+SHUFFLE	COMPRESS_BYTE_COUNT	1707104
+SHUFFLE	COPY_MAP_DATA	84229000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5517939
+SHUFFLE	COMPRESS_BYTE_COUNT	1714385
+SHUFFLE	COPY_MAP_DATA	102789000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5511223
+SHUFFLE	COMPRESS_BYTE_COUNT	1713910
+SHUFFLE	COPY_MAP_DATA	84679000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5497511
+SHUFFLE	COMPRESS_BYTE_COUNT	1709002
+SHUFFLE	COPY_MAP_DATA	161970000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5486237
+SHUFFLE	COMPRESS_BYTE_COUNT	1706625
+SHUFFLE	COPY_MAP_DATA	1176953000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5569274
+SHUFFLE	COMPRESS_BYTE_COUNT	1709339
+SHUFFLE	COPY_MAP_DATA	816150000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5571445
+SHUFFLE	COMPRESS_BYTE_COUNT	1730855
+SHUFFLE	COPY_MAP_DATA	282950000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5542181
+SHUFFLE	COMPRESS_BYTE_COUNT	1723086
+SHUFFLE	COPY_MAP_DATA	222872000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5504027
+SHUFFLE	COMPRESS_BYTE_COUNT	1711773
+SHUFFLE	COPY_MAP_DATA	84421000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5495064
+SHUFFLE	COMPRESS_BYTE_COUNT	1707505
+SHUFFLE	COPY_MAP_DATA	85803000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5469325
+SHUFFLE	COMPRESS_BYTE_COUNT	1700380
+SHUFFLE	COPY_MAP_DATA	351617000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5556452
+SHUFFLE	COMPRESS_BYTE_COUNT	1727074
+SHUFFLE	COPY_MAP_DATA	546633000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5527206
+SHUFFLE	COMPRESS_BYTE_COUNT	1718593
+SHUFFLE	COPY_MAP_DATA	151690000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5442982
+SHUFFLE	COMPRESS_BYTE_COUNT	1691583
+SHUFFLE	COPY_MAP_DATA	296665000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5565212
+SHUFFLE	COMPRESS_BYTE_COUNT	1733332
+SHUFFLE	COPY_MAP_DATA	86315000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5512629
+SHUFFLE	COMPRESS_BYTE_COUNT	1712938
+SHUFFLE	COPY_MAP_DATA	83679000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5595230
+SHUFFLE	COMPRESS_BYTE_COUNT	1739518
+SHUFFLE	COPY_MAP_DATA	84306000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5507405
+SHUFFLE	COMPRESS_BYTE_COUNT	1711448
+SHUFFLE	COPY_MAP_DATA	116388000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5525910
+SHUFFLE	COMPRESS_BYTE_COUNT	1717641
+SHUFFLE	COPY_MAP_DATA	84915000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5486190
+SHUFFLE	COMPRESS_BYTE_COUNT	1705297
+SHUFFLE	COPY_MAP_DATA	109454000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5539926
+SHUFFLE	COMPRESS_BYTE_COUNT	1726206
+SHUFFLE	COPY_MAP_DATA	92907000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5519632
+SHUFFLE	COMPRESS_BYTE_COUNT	1715372
+SHUFFLE	COPY_MAP_DATA	280646000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5550272
+SHUFFLE	COMPRESS_BYTE_COUNT	1728316
+SHUFFLE	COPY_MAP_DATA	84821000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5522689
+SHUFFLE	COMPRESS_BYTE_COUNT	1715454
+SHUFFLE	COPY_MAP_DATA	84646000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5542491
+SHUFFLE	COMPRESS_BYTE_COUNT	1722261
+SHUFFLE	COPY_MAP_DATA	85358000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5557526
+SHUFFLE	COMPRESS_BYTE_COUNT	1730658
+SHUFFLE	COPY_MAP_DATA	131223000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5567082
+SHUFFLE	COMPRESS_BYTE_COUNT	1734520
+SHUFFLE	COPY_MAP_DATA	196148000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5516742
+SHUFFLE	COMPRESS_BYTE_COUNT	1713990
+SHUFFLE	COPY_MAP_DATA	593890000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5519339
+SHUFFLE	COMPRESS_BYTE_COUNT	1737133
+SHUFFLE	COPY_MAP_DATA	221183000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5472423
+SHUFFLE	COMPRESS_BYTE_COUNT	1700350
+SHUFFLE	COPY_MAP_DATA	168157000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5561455
+SHUFFLE	COMPRESS_BYTE_COUNT	1728205
+SHUFFLE	COPY_MAP_DATA	95721000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5554255
+SHUFFLE	COMPRESS_BYTE_COUNT	1727791
+SHUFFLE	COPY_MAP_DATA	433545000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5554060
+SHUFFLE	COMPRESS_BYTE_COUNT	1729433
+SHUFFLE	COPY_MAP_DATA	172550000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5509563
+SHUFFLE	COMPRESS_BYTE_COUNT	1747029
+SHUFFLE	COPY_MAP_DATA	192906000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5600322
+SHUFFLE	COMPRESS_BYTE_COUNT	1728043
+SHUFFLE	COPY_MAP_DATA	171267000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5594249
+SHUFFLE	COMPRESS_BYTE_COUNT	1727315
+SHUFFLE	COPY_MAP_DATA	85658000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4754600
+SHUFFLE	COMPRESS_BYTE_COUNT	1460192
+SHUFFLE	COPY_MAP_DATA	324957000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4684225
+SHUFFLE	COMPRESS_BYTE_COUNT	1438858
+SHUFFLE	COPY_MAP_DATA	148888000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5588465
+SHUFFLE	COMPRESS_BYTE_COUNT	1725160
+SHUFFLE	COPY_MAP_DATA	113796000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4459626
+SHUFFLE	COMPRESS_BYTE_COUNT	1384807
+SHUFFLE	COPY_MAP_DATA	87262000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5593057
+SHUFFLE	COMPRESS_BYTE_COUNT	1726531
+SHUFFLE	COPY_MAP_DATA	248623000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5595919
+SHUFFLE	COMPRESS_BYTE_COUNT	1726873
+SHUFFLE	COPY_MAP_DATA	98812000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5595813
+SHUFFLE	COMPRESS_BYTE_COUNT	1727930
+SHUFFLE	COPY_MAP_DATA	90818000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4437922
+SHUFFLE	COMPRESS_BYTE_COUNT	1378606
+SHUFFLE	COPY_MAP_DATA	86883000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4749953
+SHUFFLE	COMPRESS_BYTE_COUNT	1457643
+SHUFFLE	COPY_MAP_DATA	175140000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5584835
+SHUFFLE	COMPRESS_BYTE_COUNT	1723078
+SHUFFLE	COPY_MAP_DATA	117960000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5586542
+SHUFFLE	COMPRESS_BYTE_COUNT	1724464
+SHUFFLE	COPY_MAP_DATA	95010000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4763067
+SHUFFLE	COMPRESS_BYTE_COUNT	1463165
+SHUFFLE	COPY_MAP_DATA	103380000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5597146
+SHUFFLE	COMPRESS_BYTE_COUNT	1728312
+SHUFFLE	COPY_MAP_DATA	500769000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5582424
+SHUFFLE	COMPRESS_BYTE_COUNT	1723782
+SHUFFLE	COPY_MAP_DATA	197046000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5563651
+SHUFFLE	COMPRESS_BYTE_COUNT	1732234
+SHUFFLE	COPY_MAP_DATA	212477000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5583439
+SHUFFLE	COMPRESS_BYTE_COUNT	1723405
+SHUFFLE	COPY_MAP_DATA	483929000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4781154
+SHUFFLE	COMPRESS_BYTE_COUNT	1466939
+SHUFFLE	COPY_MAP_DATA	475395000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4795900
+SHUFFLE	COMPRESS_BYTE_COUNT	1471337
+SHUFFLE	COPY_MAP_DATA	1064186000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5594579
+SHUFFLE	COMPRESS_BYTE_COUNT	1726775
+SHUFFLE	COPY_MAP_DATA	378650000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4753000
+SHUFFLE	COMPRESS_BYTE_COUNT	1458826
+SHUFFLE	COPY_MAP_DATA	522947000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5565382
+SHUFFLE	COMPRESS_BYTE_COUNT	1733348
+SHUFFLE	COPY_MAP_DATA	189436000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5562146
+SHUFFLE	COMPRESS_BYTE_COUNT	1732391
+SHUFFLE	COPY_MAP_DATA	245965000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5544409
+SHUFFLE	COMPRESS_BYTE_COUNT	1726885
+SHUFFLE	COPY_MAP_DATA	136229000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1736622
+SHUFFLE	COMPRESS_BYTE_COUNT	537452
+SHUFFLE	COPY_MAP_DATA	155444000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5558072
+SHUFFLE	COMPRESS_BYTE_COUNT	1732140
+SHUFFLE	COPY_MAP_DATA	1462196000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4779705
+SHUFFLE	COMPRESS_BYTE_COUNT	1466422
+SHUFFLE	COPY_MAP_DATA	116013000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5558250
+SHUFFLE	COMPRESS_BYTE_COUNT	1731991
+SHUFFLE	COPY_MAP_DATA	1442923000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4717525
+SHUFFLE	COMPRESS_BYTE_COUNT	1449146
+SHUFFLE	COPY_MAP_DATA	136182000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4443467
+SHUFFLE	COMPRESS_BYTE_COUNT	1380440
+SHUFFLE	COPY_MAP_DATA	72479000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5543538
+SHUFFLE	COMPRESS_BYTE_COUNT	1726811
+SHUFFLE	COPY_MAP_DATA	84512000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4476037
+SHUFFLE	COMPRESS_BYTE_COUNT	1390858
+SHUFFLE	COPY_MAP_DATA	70647000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4410380
+SHUFFLE	COMPRESS_BYTE_COUNT	1370968
+SHUFFLE	COPY_MAP_DATA	328276000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5599439
+SHUFFLE	COMPRESS_BYTE_COUNT	1728043
+SHUFFLE	COPY_MAP_DATA	721810000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4240696
+SHUFFLE	COMPRESS_BYTE_COUNT	1318686
+SHUFFLE	COPY_MAP_DATA	84194000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4445242
+SHUFFLE	COMPRESS_BYTE_COUNT	1382400
+SHUFFLE	COPY_MAP_DATA	325282000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1739772
+SHUFFLE	COMPRESS_BYTE_COUNT	538165
+SHUFFLE	COPY_MAP_DATA	28422000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1741131
+SHUFFLE	COMPRESS_BYTE_COUNT	538181
+SHUFFLE	COPY_MAP_DATA	438693000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1742881
+SHUFFLE	COMPRESS_BYTE_COUNT	538668
+SHUFFLE	COPY_MAP_DATA	57048000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1658977
+SHUFFLE	COMPRESS_BYTE_COUNT	517159
+SHUFFLE	COPY_MAP_DATA	33180000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1743015
+SHUFFLE	COMPRESS_BYTE_COUNT	538507
+SHUFFLE	COPY_MAP_DATA	48061000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1740159
+SHUFFLE	COMPRESS_BYTE_COUNT	538099
+SHUFFLE	COPY_MAP_DATA	29071000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1740365
+SHUFFLE	COMPRESS_BYTE_COUNT	538158
+SHUFFLE	COPY_MAP_DATA	27861000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4455826
+SHUFFLE	COMPRESS_BYTE_COUNT	1384385
+SHUFFLE	COPY_MAP_DATA	172045000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5564115
+SHUFFLE	COMPRESS_BYTE_COUNT	1732960
+SHUFFLE	COPY_MAP_DATA	99914000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4729969
+SHUFFLE	COMPRESS_BYTE_COUNT	1451958
+SHUFFLE	COPY_MAP_DATA	967423000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1665780
+SHUFFLE	COMPRESS_BYTE_COUNT	519742
+SHUFFLE	COPY_MAP_DATA	70031000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1743384
+SHUFFLE	COMPRESS_BYTE_COUNT	539378
+SHUFFLE	COPY_MAP_DATA	134165000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4410595
+SHUFFLE	COMPRESS_BYTE_COUNT	1370966
+SHUFFLE	COPY_MAP_DATA	5242075000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1744825
+SHUFFLE	COMPRESS_BYTE_COUNT	539084
+SHUFFLE	COPY_MAP_DATA	51255000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1664358
+SHUFFLE	COMPRESS_BYTE_COUNT	519573
+SHUFFLE	COPY_MAP_DATA	30548000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1661724
+SHUFFLE	COMPRESS_BYTE_COUNT	518026
+SHUFFLE	COPY_MAP_DATA	41904000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1664107
+SHUFFLE	COMPRESS_BYTE_COUNT	519426
+SHUFFLE	COPY_MAP_DATA	31083000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4728752
+SHUFFLE	COMPRESS_BYTE_COUNT	1452040
+SHUFFLE	COPY_MAP_DATA	96509000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1658076
+SHUFFLE	COMPRESS_BYTE_COUNT	517866
+SHUFFLE	COPY_MAP_DATA	32224000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4572295
+SHUFFLE	COMPRESS_BYTE_COUNT	1404030
+SHUFFLE	COPY_MAP_DATA	75621000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4414227
+SHUFFLE	COMPRESS_BYTE_COUNT	1372401
+SHUFFLE	COPY_MAP_DATA	164720000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4109297
+SHUFFLE	COMPRESS_BYTE_COUNT	1295110
+SHUFFLE	COPY_MAP_DATA	67640000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4477353
+SHUFFLE	COMPRESS_BYTE_COUNT	1391582
+SHUFFLE	COPY_MAP_DATA	75180000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4739276
+SHUFFLE	COMPRESS_BYTE_COUNT	1454932
+SHUFFLE	COPY_MAP_DATA	183015000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1667243
+SHUFFLE	COMPRESS_BYTE_COUNT	519660
+SHUFFLE	COPY_MAP_DATA	37138000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1668097
+SHUFFLE	COMPRESS_BYTE_COUNT	520852
+SHUFFLE	COPY_MAP_DATA	37915000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4455368
+SHUFFLE	COMPRESS_BYTE_COUNT	1385336
+SHUFFLE	COPY_MAP_DATA	123258000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1657606
+SHUFFLE	COMPRESS_BYTE_COUNT	517091
+SHUFFLE	COPY_MAP_DATA	41751000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4703120
+SHUFFLE	COMPRESS_BYTE_COUNT	1442219
+SHUFFLE	COPY_MAP_DATA	644498000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1733696
+SHUFFLE	COMPRESS_BYTE_COUNT	535919
+SHUFFLE	COPY_MAP_DATA	30789000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1736122
+SHUFFLE	COMPRESS_BYTE_COUNT	537153
+SHUFFLE	COPY_MAP_DATA	38089000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4424057
+SHUFFLE	COMPRESS_BYTE_COUNT	1375138
+SHUFFLE	COPY_MAP_DATA	114713000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4429945
+SHUFFLE	COMPRESS_BYTE_COUNT	1376222
+SHUFFLE	COPY_MAP_DATA	92548000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1665590
+SHUFFLE	COMPRESS_BYTE_COUNT	519869
+SHUFFLE	COPY_MAP_DATA	28673000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1736306
+SHUFFLE	COMPRESS_BYTE_COUNT	536723
+SHUFFLE	COPY_MAP_DATA	41013000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1733716
+SHUFFLE	COMPRESS_BYTE_COUNT	536713
+SHUFFLE	COPY_MAP_DATA	30501000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1663200
+SHUFFLE	COMPRESS_BYTE_COUNT	518365
+SHUFFLE	COPY_MAP_DATA	26521000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1586727
+SHUFFLE	COMPRESS_BYTE_COUNT	500405
+SHUFFLE	COPY_MAP_DATA	76017000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1666217
+SHUFFLE	COMPRESS_BYTE_COUNT	519910
+SHUFFLE	COPY_MAP_DATA	29257000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1698048
+SHUFFLE	COMPRESS_BYTE_COUNT	525083
+SHUFFLE	COPY_MAP_DATA	28988000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1667429
+SHUFFLE	COMPRESS_BYTE_COUNT	520018
+SHUFFLE	COPY_MAP_DATA	203289000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1659980
+SHUFFLE	COMPRESS_BYTE_COUNT	518417
+SHUFFLE	COPY_MAP_DATA	28862000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1625116
+SHUFFLE	COMPRESS_BYTE_COUNT	507004
+SHUFFLE	COPY_MAP_DATA	39213000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4466441
+SHUFFLE	COMPRESS_BYTE_COUNT	1389283
+SHUFFLE	COPY_MAP_DATA	99773000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	514064689767
+MERGE	READ_WRITE	509640417767
+MERGE	READ_WRITE_COUNT	8
+MERGE	COMBINE	0
+MERGE	WRITE	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	11366676000
+SORT	READ_WRITE	10783568000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	139780640
+REDUCE	SETUP	310000
+REDUCE	SETUP_MEM	139780640
+REDUCE	CLEANUP	40000
+REDUCE	CLEANUP_MEM	105151768
+REDUCE	TOTAL_RUN	521569218848
+REDUCE	READ	18322734000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	490946287848
+REDUCE	WRITE	228631395848
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	55907854
+REDUCE	VALUE_BYTE_COUNT	1648446109
+REDUCE	REDUCE_MEM	105153816
+REDUCE	WRITE	53175000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	1206369498352
@@ -0,0 +1,989 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5551522
+SHUFFLE	COMPRESS_BYTE_COUNT	1724713
+SHUFFLE	COPY_MAP_DATA	1450859000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5515149
+SHUFFLE	COMPRESS_BYTE_COUNT	1714449
+SHUFFLE	COPY_MAP_DATA	766635000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5586872
+SHUFFLE	COMPRESS_BYTE_COUNT	1736144
+SHUFFLE	COPY_MAP_DATA	156296000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5517075
+SHUFFLE	COMPRESS_BYTE_COUNT	1714852
+SHUFFLE	COPY_MAP_DATA	335380000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5439574
+SHUFFLE	COMPRESS_BYTE_COUNT	1712790
+SHUFFLE	COPY_MAP_DATA	178359000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5523837
+SHUFFLE	COMPRESS_BYTE_COUNT	1739082
+SHUFFLE	COPY_MAP_DATA	248017000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5532004
+SHUFFLE	COMPRESS_BYTE_COUNT	1718151
+SHUFFLE	COPY_MAP_DATA	118090000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5558442
+SHUFFLE	COMPRESS_BYTE_COUNT	1705529
+SHUFFLE	COPY_MAP_DATA	200694000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5522434
+SHUFFLE	COMPRESS_BYTE_COUNT	1716703
+SHUFFLE	COPY_MAP_DATA	314752000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5494079
+SHUFFLE	COMPRESS_BYTE_COUNT	1707460
+SHUFFLE	COPY_MAP_DATA	86969000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5519204
+SHUFFLE	COMPRESS_BYTE_COUNT	1716283
+SHUFFLE	COPY_MAP_DATA	125690000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5477230
+SHUFFLE	COMPRESS_BYTE_COUNT	1702146
+SHUFFLE	COPY_MAP_DATA	174639000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5539976
+SHUFFLE	COMPRESS_BYTE_COUNT	1721217
+SHUFFLE	COPY_MAP_DATA	136425000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5502698
+SHUFFLE	COMPRESS_BYTE_COUNT	1711494
+SHUFFLE	COPY_MAP_DATA	274992000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5505806
+SHUFFLE	COMPRESS_BYTE_COUNT	1710303
+SHUFFLE	COPY_MAP_DATA	347601000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5474374
+SHUFFLE	COMPRESS_BYTE_COUNT	1724957
+SHUFFLE	COPY_MAP_DATA	266726000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5539719
+SHUFFLE	COMPRESS_BYTE_COUNT	1721742
+SHUFFLE	COPY_MAP_DATA	302694000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5538774
+SHUFFLE	COMPRESS_BYTE_COUNT	1721685
+SHUFFLE	COPY_MAP_DATA	231618000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5524772
+SHUFFLE	COMPRESS_BYTE_COUNT	1717208
+SHUFFLE	COPY_MAP_DATA	249700000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5497097
+SHUFFLE	COMPRESS_BYTE_COUNT	1707073
+SHUFFLE	COPY_MAP_DATA	172025000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5517972
+SHUFFLE	COMPRESS_BYTE_COUNT	1715656
+SHUFFLE	COPY_MAP_DATA	146615000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5455348
+SHUFFLE	COMPRESS_BYTE_COUNT	1717021
+SHUFFLE	COPY_MAP_DATA	174465000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5541307
+SHUFFLE	COMPRESS_BYTE_COUNT	1722880
+SHUFFLE	COPY_MAP_DATA	175276000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5499083
+SHUFFLE	COMPRESS_BYTE_COUNT	1710866
+SHUFFLE	COPY_MAP_DATA	1491044000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5502838
+SHUFFLE	COMPRESS_BYTE_COUNT	1710483
+SHUFFLE	COPY_MAP_DATA	7436337000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5529287
+SHUFFLE	COMPRESS_BYTE_COUNT	1717941
+SHUFFLE	COPY_MAP_DATA	1346154000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5495704
+SHUFFLE	COMPRESS_BYTE_COUNT	1709140
+SHUFFLE	COPY_MAP_DATA	136402000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5495952
+SHUFFLE	COMPRESS_BYTE_COUNT	1708027
+SHUFFLE	COPY_MAP_DATA	153032000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5469218
+SHUFFLE	COMPRESS_BYTE_COUNT	1700726
+SHUFFLE	COPY_MAP_DATA	1567121000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5448748
+SHUFFLE	COMPRESS_BYTE_COUNT	1742548
+SHUFFLE	COPY_MAP_DATA	153347000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5511828
+SHUFFLE	COMPRESS_BYTE_COUNT	1713605
+SHUFFLE	COPY_MAP_DATA	2323661000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5525376
+SHUFFLE	COMPRESS_BYTE_COUNT	1695726
+SHUFFLE	COPY_MAP_DATA	729297000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5438388
+SHUFFLE	COMPRESS_BYTE_COUNT	1691029
+SHUFFLE	COPY_MAP_DATA	86690000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5591576
+SHUFFLE	COMPRESS_BYTE_COUNT	1716992
+SHUFFLE	COPY_MAP_DATA	85867000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5529979
+SHUFFLE	COMPRESS_BYTE_COUNT	1718199
+SHUFFLE	COPY_MAP_DATA	200634000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5520786
+SHUFFLE	COMPRESS_BYTE_COUNT	1715183
+SHUFFLE	COPY_MAP_DATA	208889000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5568870
+SHUFFLE	COMPRESS_BYTE_COUNT	1730669
+SHUFFLE	COPY_MAP_DATA	1941516000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5501327
+SHUFFLE	COMPRESS_BYTE_COUNT	1709018
+SHUFFLE	COPY_MAP_DATA	243741000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5495627
+SHUFFLE	COMPRESS_BYTE_COUNT	1707585
+SHUFFLE	COPY_MAP_DATA	98034000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5559499
+SHUFFLE	COMPRESS_BYTE_COUNT	1706929
+SHUFFLE	COPY_MAP_DATA	191527000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5577681
+SHUFFLE	COMPRESS_BYTE_COUNT	1712626
+SHUFFLE	COPY_MAP_DATA	200932000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5523927
+SHUFFLE	COMPRESS_BYTE_COUNT	1695519
+SHUFFLE	COPY_MAP_DATA	313210000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5535370
+SHUFFLE	COMPRESS_BYTE_COUNT	1720388
+SHUFFLE	COPY_MAP_DATA	1135946000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5500454
+SHUFFLE	COMPRESS_BYTE_COUNT	1709526
+SHUFFLE	COPY_MAP_DATA	316518000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5474449
+SHUFFLE	COMPRESS_BYTE_COUNT	1701359
+SHUFFLE	COPY_MAP_DATA	127236000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5424972
+SHUFFLE	COMPRESS_BYTE_COUNT	1708242
+SHUFFLE	COPY_MAP_DATA	209016000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5535080
+SHUFFLE	COMPRESS_BYTE_COUNT	1699090
+SHUFFLE	COPY_MAP_DATA	245163000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5541986
+SHUFFLE	COMPRESS_BYTE_COUNT	1722570
+SHUFFLE	COPY_MAP_DATA	258022000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5503191
+SHUFFLE	COMPRESS_BYTE_COUNT	1711540
+SHUFFLE	COPY_MAP_DATA	9253739000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5564989
+SHUFFLE	COMPRESS_BYTE_COUNT	1708405
+SHUFFLE	COPY_MAP_DATA	85192000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5502519
+SHUFFLE	COMPRESS_BYTE_COUNT	1710750
+SHUFFLE	COPY_MAP_DATA	88267000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5625842
+SHUFFLE	COMPRESS_BYTE_COUNT	1727972
+SHUFFLE	COPY_MAP_DATA	92154000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5525149
+SHUFFLE	COMPRESS_BYTE_COUNT	1695336
+SHUFFLE	COPY_MAP_DATA	243231000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5509390
+SHUFFLE	COMPRESS_BYTE_COUNT	1712214
+SHUFFLE	COPY_MAP_DATA	128330000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5543991
+SHUFFLE	COMPRESS_BYTE_COUNT	1702416
+SHUFFLE	COPY_MAP_DATA	97655000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5506158
+SHUFFLE	COMPRESS_BYTE_COUNT	1708674
+SHUFFLE	COPY_MAP_DATA	576029000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5518290
+SHUFFLE	COMPRESS_BYTE_COUNT	1715099
+SHUFFLE	COPY_MAP_DATA	157538000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5527905
+SHUFFLE	COMPRESS_BYTE_COUNT	1696423
+SHUFFLE	COPY_MAP_DATA	81327000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5544471
+SHUFFLE	COMPRESS_BYTE_COUNT	1702268
+SHUFFLE	COPY_MAP_DATA	81656000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5507986
+SHUFFLE	COMPRESS_BYTE_COUNT	1690356
+SHUFFLE	COPY_MAP_DATA	90268000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5556074
+SHUFFLE	COMPRESS_BYTE_COUNT	1705336
+SHUFFLE	COPY_MAP_DATA	109524000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5494694
+SHUFFLE	COMPRESS_BYTE_COUNT	1687251
+SHUFFLE	COPY_MAP_DATA	7298778000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5496111
+SHUFFLE	COMPRESS_BYTE_COUNT	1687169
+SHUFFLE	COPY_MAP_DATA	256150000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5531104
+SHUFFLE	COMPRESS_BYTE_COUNT	1697628
+SHUFFLE	COPY_MAP_DATA	100377000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5591840
+SHUFFLE	COMPRESS_BYTE_COUNT	1714643
+SHUFFLE	COPY_MAP_DATA	150439000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5597733
+SHUFFLE	COMPRESS_BYTE_COUNT	1716942
+SHUFFLE	COPY_MAP_DATA	84752000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5538222
+SHUFFLE	COMPRESS_BYTE_COUNT	1699754
+SHUFFLE	COPY_MAP_DATA	374348000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5540652
+SHUFFLE	COMPRESS_BYTE_COUNT	1741265
+SHUFFLE	COPY_MAP_DATA	101548000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5532880
+SHUFFLE	COMPRESS_BYTE_COUNT	1698082
+SHUFFLE	COPY_MAP_DATA	147085000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5521620
+SHUFFLE	COMPRESS_BYTE_COUNT	1740393
+SHUFFLE	COPY_MAP_DATA	320296000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5538584
+SHUFFLE	COMPRESS_BYTE_COUNT	1700022
+SHUFFLE	COPY_MAP_DATA	84970000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5510620
+SHUFFLE	COMPRESS_BYTE_COUNT	1691476
+SHUFFLE	COPY_MAP_DATA	520700000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5562910
+SHUFFLE	COMPRESS_BYTE_COUNT	1706937
+SHUFFLE	COPY_MAP_DATA	130528000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5522067
+SHUFFLE	COMPRESS_BYTE_COUNT	1694899
+SHUFFLE	COPY_MAP_DATA	144746000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5552688
+SHUFFLE	COMPRESS_BYTE_COUNT	1704696
+SHUFFLE	COPY_MAP_DATA	151075000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5510916
+SHUFFLE	COMPRESS_BYTE_COUNT	1691960
+SHUFFLE	COPY_MAP_DATA	86656000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5527618
+SHUFFLE	COMPRESS_BYTE_COUNT	1696442
+SHUFFLE	COPY_MAP_DATA	4853142000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5596417
+SHUFFLE	COMPRESS_BYTE_COUNT	1717743
+SHUFFLE	COPY_MAP_DATA	127269000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5535554
+SHUFFLE	COMPRESS_BYTE_COUNT	1699736
+SHUFFLE	COPY_MAP_DATA	86636000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5580838
+SHUFFLE	COMPRESS_BYTE_COUNT	1712924
+SHUFFLE	COPY_MAP_DATA	86063000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5546765
+SHUFFLE	COMPRESS_BYTE_COUNT	1704254
+SHUFFLE	COPY_MAP_DATA	117417000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5531225
+SHUFFLE	COMPRESS_BYTE_COUNT	1698644
+SHUFFLE	COPY_MAP_DATA	85567000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5553176
+SHUFFLE	COMPRESS_BYTE_COUNT	1705073
+SHUFFLE	COPY_MAP_DATA	526861000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5626259
+SHUFFLE	COMPRESS_BYTE_COUNT	1726023
+SHUFFLE	COPY_MAP_DATA	1176746000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5482147
+SHUFFLE	COMPRESS_BYTE_COUNT	1726127
+SHUFFLE	COPY_MAP_DATA	162871000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5485138
+SHUFFLE	COMPRESS_BYTE_COUNT	1684748
+SHUFFLE	COPY_MAP_DATA	304967000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5538640
+SHUFFLE	COMPRESS_BYTE_COUNT	1700684
+SHUFFLE	COPY_MAP_DATA	114304000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5551418
+SHUFFLE	COMPRESS_BYTE_COUNT	1705617
+SHUFFLE	COPY_MAP_DATA	487716000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5565707
+SHUFFLE	COMPRESS_BYTE_COUNT	1707739
+SHUFFLE	COPY_MAP_DATA	5889919000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5565348
+SHUFFLE	COMPRESS_BYTE_COUNT	1708796
+SHUFFLE	COPY_MAP_DATA	4032535000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5482265
+SHUFFLE	COMPRESS_BYTE_COUNT	1682174
+SHUFFLE	COPY_MAP_DATA	238137000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5545406
+SHUFFLE	COMPRESS_BYTE_COUNT	1702901
+SHUFFLE	COPY_MAP_DATA	91048000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5554059
+SHUFFLE	COMPRESS_BYTE_COUNT	1704143
+SHUFFLE	COPY_MAP_DATA	136210000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5572096
+SHUFFLE	COMPRESS_BYTE_COUNT	1710344
+SHUFFLE	COPY_MAP_DATA	82241000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5572778
+SHUFFLE	COMPRESS_BYTE_COUNT	1710598
+SHUFFLE	COPY_MAP_DATA	123798000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5504362
+SHUFFLE	COMPRESS_BYTE_COUNT	1688936
+SHUFFLE	COPY_MAP_DATA	150681000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5521104
+SHUFFLE	COMPRESS_BYTE_COUNT	1714879
+SHUFFLE	COPY_MAP_DATA	224301000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5563223
+SHUFFLE	COMPRESS_BYTE_COUNT	1709266
+SHUFFLE	COPY_MAP_DATA	81347000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5519065
+SHUFFLE	COMPRESS_BYTE_COUNT	1715652
+SHUFFLE	COPY_MAP_DATA	141916000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5563498
+SHUFFLE	COMPRESS_BYTE_COUNT	1707607
+SHUFFLE	COPY_MAP_DATA	174954000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5576741
+SHUFFLE	COMPRESS_BYTE_COUNT	1711663
+SHUFFLE	COPY_MAP_DATA	425212000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5546025
+SHUFFLE	COMPRESS_BYTE_COUNT	1703150
+SHUFFLE	COPY_MAP_DATA	1912812000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5546728
+SHUFFLE	COMPRESS_BYTE_COUNT	1702779
+SHUFFLE	COPY_MAP_DATA	894750000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5515834
+SHUFFLE	COMPRESS_BYTE_COUNT	1693516
+SHUFFLE	COPY_MAP_DATA	110729000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5577102
+SHUFFLE	COMPRESS_BYTE_COUNT	1712552
+SHUFFLE	COPY_MAP_DATA	1976500000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5542190
+SHUFFLE	COMPRESS_BYTE_COUNT	1702112
+SHUFFLE	COPY_MAP_DATA	6090471000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5562126
+SHUFFLE	COMPRESS_BYTE_COUNT	1707616
+SHUFFLE	COPY_MAP_DATA	97358000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5551947
+SHUFFLE	COMPRESS_BYTE_COUNT	1726145
+SHUFFLE	COPY_MAP_DATA	90480000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5513202
+SHUFFLE	COMPRESS_BYTE_COUNT	1691687
+SHUFFLE	COPY_MAP_DATA	99282000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5522942
+SHUFFLE	COMPRESS_BYTE_COUNT	1696068
+SHUFFLE	COPY_MAP_DATA	106587000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5560261
+SHUFFLE	COMPRESS_BYTE_COUNT	1707758
+SHUFFLE	COPY_MAP_DATA	211309000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5503553
+SHUFFLE	COMPRESS_BYTE_COUNT	1711109
+SHUFFLE	COPY_MAP_DATA	2558010000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5522923
+SHUFFLE	COMPRESS_BYTE_COUNT	1696126
+SHUFFLE	COPY_MAP_DATA	1783319000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5537350
+SHUFFLE	COMPRESS_BYTE_COUNT	1720312
+SHUFFLE	COPY_MAP_DATA	88072000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5555976
+SHUFFLE	COMPRESS_BYTE_COUNT	1726330
+SHUFFLE	COPY_MAP_DATA	87278000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5538584
+SHUFFLE	COMPRESS_BYTE_COUNT	1722324
+SHUFFLE	COPY_MAP_DATA	86726000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5519733
+SHUFFLE	COMPRESS_BYTE_COUNT	1695523
+SHUFFLE	COPY_MAP_DATA	429434000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5509217
+SHUFFLE	COMPRESS_BYTE_COUNT	1691054
+SHUFFLE	COPY_MAP_DATA	719908000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5548052
+SHUFFLE	COMPRESS_BYTE_COUNT	1703018
+SHUFFLE	COPY_MAP_DATA	355702000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5493202
+SHUFFLE	COMPRESS_BYTE_COUNT	1707672
+SHUFFLE	COPY_MAP_DATA	102025000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5491078
+SHUFFLE	COMPRESS_BYTE_COUNT	1707137
+SHUFFLE	COPY_MAP_DATA	86449000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5483795
+SHUFFLE	COMPRESS_BYTE_COUNT	1704386
+SHUFFLE	COPY_MAP_DATA	450905000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5559327
+SHUFFLE	COMPRESS_BYTE_COUNT	1705194
+SHUFFLE	COPY_MAP_DATA	106619000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5517367
+SHUFFLE	COMPRESS_BYTE_COUNT	1714654
+SHUFFLE	COPY_MAP_DATA	101863000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5543893
+SHUFFLE	COMPRESS_BYTE_COUNT	1702817
+SHUFFLE	COPY_MAP_DATA	560128000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5537503
+SHUFFLE	COMPRESS_BYTE_COUNT	1720976
+SHUFFLE	COPY_MAP_DATA	274470000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5469299
+SHUFFLE	COMPRESS_BYTE_COUNT	1701203
+SHUFFLE	COPY_MAP_DATA	627144000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5509298
+SHUFFLE	COMPRESS_BYTE_COUNT	1713035
+SHUFFLE	COPY_MAP_DATA	129456000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5468454
+SHUFFLE	COMPRESS_BYTE_COUNT	1699127
+SHUFFLE	COPY_MAP_DATA	97201000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5526264
+SHUFFLE	COMPRESS_BYTE_COUNT	1716637
+SHUFFLE	COPY_MAP_DATA	99950000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5551301
+SHUFFLE	COMPRESS_BYTE_COUNT	1702672
+SHUFFLE	COPY_MAP_DATA	99325000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5496209
+SHUFFLE	COMPRESS_BYTE_COUNT	1709281
+SHUFFLE	COPY_MAP_DATA	212219000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5543053
+SHUFFLE	COMPRESS_BYTE_COUNT	1723250
+SHUFFLE	COPY_MAP_DATA	910187000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5479356
+SHUFFLE	COMPRESS_BYTE_COUNT	1702825
+SHUFFLE	COPY_MAP_DATA	1155496000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5484010
+SHUFFLE	COMPRESS_BYTE_COUNT	1704913
+SHUFFLE	COPY_MAP_DATA	850176000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5534494
+SHUFFLE	COMPRESS_BYTE_COUNT	1719094
+SHUFFLE	COPY_MAP_DATA	111633000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5512561
+SHUFFLE	COMPRESS_BYTE_COUNT	1713192
+SHUFFLE	COPY_MAP_DATA	2342304000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5481521
+SHUFFLE	COMPRESS_BYTE_COUNT	1703300
+SHUFFLE	COPY_MAP_DATA	215342000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5577654
+SHUFFLE	COMPRESS_BYTE_COUNT	1733088
+SHUFFLE	COPY_MAP_DATA	305444000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5568587
+SHUFFLE	COMPRESS_BYTE_COUNT	1735498
+SHUFFLE	COPY_MAP_DATA	90851000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5626718
+SHUFFLE	COMPRESS_BYTE_COUNT	1747924
+SHUFFLE	COPY_MAP_DATA	372454000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5509690
+SHUFFLE	COMPRESS_BYTE_COUNT	1711882
+SHUFFLE	COPY_MAP_DATA	96446000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5538426
+SHUFFLE	COMPRESS_BYTE_COUNT	1720436
+SHUFFLE	COPY_MAP_DATA	87662000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5484052
+SHUFFLE	COMPRESS_BYTE_COUNT	1703716
+SHUFFLE	COPY_MAP_DATA	1723474000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5542946
+SHUFFLE	COMPRESS_BYTE_COUNT	1726407
+SHUFFLE	COPY_MAP_DATA	173346000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5527083
+SHUFFLE	COMPRESS_BYTE_COUNT	1716849
+SHUFFLE	COPY_MAP_DATA	255248000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5525839
+SHUFFLE	COMPRESS_BYTE_COUNT	1718061
+SHUFFLE	COPY_MAP_DATA	97801000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5517462
+SHUFFLE	COMPRESS_BYTE_COUNT	1714871
+SHUFFLE	COPY_MAP_DATA	87668000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5528025
+SHUFFLE	COMPRESS_BYTE_COUNT	1719374
+SHUFFLE	COPY_MAP_DATA	270990000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5547423
+SHUFFLE	COMPRESS_BYTE_COUNT	1728197
+SHUFFLE	COPY_MAP_DATA	139223000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5518292
+SHUFFLE	COMPRESS_BYTE_COUNT	1736607
+SHUFFLE	COPY_MAP_DATA	728157000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5509247
+SHUFFLE	COMPRESS_BYTE_COUNT	1711730
+SHUFFLE	COPY_MAP_DATA	98595000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5550455
+SHUFFLE	COMPRESS_BYTE_COUNT	1729180
+SHUFFLE	COPY_MAP_DATA	97391000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5570661
+SHUFFLE	COMPRESS_BYTE_COUNT	1734547
+SHUFFLE	COPY_MAP_DATA	218542000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5491249
+SHUFFLE	COMPRESS_BYTE_COUNT	1706734
+SHUFFLE	COPY_MAP_DATA	115022000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5537084
+SHUFFLE	COMPRESS_BYTE_COUNT	1720555
+SHUFFLE	COPY_MAP_DATA	102442000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5546550
+SHUFFLE	COMPRESS_BYTE_COUNT	1727996
+SHUFFLE	COPY_MAP_DATA	1163228000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5550829
+SHUFFLE	COMPRESS_BYTE_COUNT	1727773
+SHUFFLE	COPY_MAP_DATA	107522000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5509364
+SHUFFLE	COMPRESS_BYTE_COUNT	1746608
+SHUFFLE	COPY_MAP_DATA	97888000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5588867
+SHUFFLE	COMPRESS_BYTE_COUNT	1725514
+SHUFFLE	COPY_MAP_DATA	644598000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5598670
+SHUFFLE	COMPRESS_BYTE_COUNT	1728786
+SHUFFLE	COPY_MAP_DATA	197343000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4751512
+SHUFFLE	COMPRESS_BYTE_COUNT	1458110
+SHUFFLE	COPY_MAP_DATA	115239000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4704109
+SHUFFLE	COMPRESS_BYTE_COUNT	1443284
+SHUFFLE	COPY_MAP_DATA	2260415000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5587718
+SHUFFLE	COMPRESS_BYTE_COUNT	1724895
+SHUFFLE	COPY_MAP_DATA	297263000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4468267
+SHUFFLE	COMPRESS_BYTE_COUNT	1388622
+SHUFFLE	COPY_MAP_DATA	66697000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5588311
+SHUFFLE	COMPRESS_BYTE_COUNT	1725648
+SHUFFLE	COPY_MAP_DATA	134800000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4409404
+SHUFFLE	COMPRESS_BYTE_COUNT	1370473
+SHUFFLE	COPY_MAP_DATA	214008000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5595306
+SHUFFLE	COMPRESS_BYTE_COUNT	1727365
+SHUFFLE	COPY_MAP_DATA	98027000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4733508
+SHUFFLE	COMPRESS_BYTE_COUNT	1452738
+SHUFFLE	COPY_MAP_DATA	135755000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5597748
+SHUFFLE	COMPRESS_BYTE_COUNT	1728823
+SHUFFLE	COPY_MAP_DATA	85844000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5593117
+SHUFFLE	COMPRESS_BYTE_COUNT	1726319
+SHUFFLE	COPY_MAP_DATA	140831000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5587419
+SHUFFLE	COMPRESS_BYTE_COUNT	1724162
+SHUFFLE	COPY_MAP_DATA	118481000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5554881
+SHUFFLE	COMPRESS_BYTE_COUNT	1729894
+SHUFFLE	COPY_MAP_DATA	124575000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4757553
+SHUFFLE	COMPRESS_BYTE_COUNT	1461187
+SHUFFLE	COPY_MAP_DATA	857543000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5591726
+SHUFFLE	COMPRESS_BYTE_COUNT	1725878
+SHUFFLE	COPY_MAP_DATA	156274000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4725671
+SHUFFLE	COMPRESS_BYTE_COUNT	1450196
+SHUFFLE	COPY_MAP_DATA	1524447000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5599135
+SHUFFLE	COMPRESS_BYTE_COUNT	1728483
+SHUFFLE	COPY_MAP_DATA	153455000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5585944
+SHUFFLE	COMPRESS_BYTE_COUNT	1724164
+SHUFFLE	COPY_MAP_DATA	84800000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4754954
+SHUFFLE	COMPRESS_BYTE_COUNT	1459292
+SHUFFLE	COPY_MAP_DATA	76701000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4756563
+SHUFFLE	COMPRESS_BYTE_COUNT	1459586
+SHUFFLE	COPY_MAP_DATA	94044000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5593740
+SHUFFLE	COMPRESS_BYTE_COUNT	1726025
+SHUFFLE	COPY_MAP_DATA	130246000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5561785
+SHUFFLE	COMPRESS_BYTE_COUNT	1731821
+SHUFFLE	COPY_MAP_DATA	111025000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5556635
+SHUFFLE	COMPRESS_BYTE_COUNT	1730209
+SHUFFLE	COPY_MAP_DATA	300163000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5547472
+SHUFFLE	COMPRESS_BYTE_COUNT	1727150
+SHUFFLE	COPY_MAP_DATA	540222000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1731896
+SHUFFLE	COMPRESS_BYTE_COUNT	536248
+SHUFFLE	COPY_MAP_DATA	44731000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5567764
+SHUFFLE	COMPRESS_BYTE_COUNT	1734709
+SHUFFLE	COPY_MAP_DATA	2478550000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4732899
+SHUFFLE	COMPRESS_BYTE_COUNT	1452540
+SHUFFLE	COPY_MAP_DATA	1621873000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5552040
+SHUFFLE	COMPRESS_BYTE_COUNT	1729682
+SHUFFLE	COPY_MAP_DATA	176212000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4739831
+SHUFFLE	COMPRESS_BYTE_COUNT	1454813
+SHUFFLE	COPY_MAP_DATA	78620000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4480310
+SHUFFLE	COMPRESS_BYTE_COUNT	1392738
+SHUFFLE	COPY_MAP_DATA	73441000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5544316
+SHUFFLE	COMPRESS_BYTE_COUNT	1727449
+SHUFFLE	COPY_MAP_DATA	86941000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4480949
+SHUFFLE	COMPRESS_BYTE_COUNT	1393376
+SHUFFLE	COPY_MAP_DATA	130014000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4400399
+SHUFFLE	COMPRESS_BYTE_COUNT	1367932
+SHUFFLE	COPY_MAP_DATA	69701000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5598775
+SHUFFLE	COMPRESS_BYTE_COUNT	1727766
+SHUFFLE	COPY_MAP_DATA	259978000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4299307
+SHUFFLE	COMPRESS_BYTE_COUNT	1336532
+SHUFFLE	COPY_MAP_DATA	307005000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4442980
+SHUFFLE	COMPRESS_BYTE_COUNT	1381055
+SHUFFLE	COPY_MAP_DATA	69625000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1742577
+SHUFFLE	COMPRESS_BYTE_COUNT	537978
+SHUFFLE	COPY_MAP_DATA	111863000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1739664
+SHUFFLE	COMPRESS_BYTE_COUNT	538043
+SHUFFLE	COPY_MAP_DATA	9175133000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1740922
+SHUFFLE	COMPRESS_BYTE_COUNT	538059
+SHUFFLE	COPY_MAP_DATA	29317000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1656913
+SHUFFLE	COMPRESS_BYTE_COUNT	516950
+SHUFFLE	COPY_MAP_DATA	27349000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1739017
+SHUFFLE	COMPRESS_BYTE_COUNT	538049
+SHUFFLE	COPY_MAP_DATA	46024000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1738682
+SHUFFLE	COMPRESS_BYTE_COUNT	538236
+SHUFFLE	COPY_MAP_DATA	28905000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1736842
+SHUFFLE	COMPRESS_BYTE_COUNT	536900
+SHUFFLE	COPY_MAP_DATA	27797000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1667304
+SHUFFLE	COMPRESS_BYTE_COUNT	520291
+SHUFFLE	COPY_MAP_DATA	92886000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5558484
+SHUFFLE	COMPRESS_BYTE_COUNT	1731886
+SHUFFLE	COPY_MAP_DATA	96251000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1745041
+SHUFFLE	COMPRESS_BYTE_COUNT	539136
+SHUFFLE	COPY_MAP_DATA	106974000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1738720
+SHUFFLE	COMPRESS_BYTE_COUNT	537676
+SHUFFLE	COPY_MAP_DATA	50121000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4437677
+SHUFFLE	COMPRESS_BYTE_COUNT	1379318
+SHUFFLE	COPY_MAP_DATA	93734000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1668512
+SHUFFLE	COMPRESS_BYTE_COUNT	520515
+SHUFFLE	COPY_MAP_DATA	27890000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4739283
+SHUFFLE	COMPRESS_BYTE_COUNT	1454974
+SHUFFLE	COPY_MAP_DATA	107881000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1659994
+SHUFFLE	COMPRESS_BYTE_COUNT	517633
+SHUFFLE	COPY_MAP_DATA	61983000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4399866
+SHUFFLE	COMPRESS_BYTE_COUNT	1369192
+SHUFFLE	COPY_MAP_DATA	2861416000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1664239
+SHUFFLE	COMPRESS_BYTE_COUNT	519779
+SHUFFLE	COPY_MAP_DATA	28152000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1662041
+SHUFFLE	COMPRESS_BYTE_COUNT	518093
+SHUFFLE	COPY_MAP_DATA	44862000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4438983
+SHUFFLE	COMPRESS_BYTE_COUNT	1380742
+SHUFFLE	COPY_MAP_DATA	79106000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4529376
+SHUFFLE	COMPRESS_BYTE_COUNT	1389589
+SHUFFLE	COPY_MAP_DATA	100809000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4781738
+SHUFFLE	COMPRESS_BYTE_COUNT	1469012
+SHUFFLE	COPY_MAP_DATA	73091000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4172831
+SHUFFLE	COMPRESS_BYTE_COUNT	1314001
+SHUFFLE	COPY_MAP_DATA	93910000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4477226
+SHUFFLE	COMPRESS_BYTE_COUNT	1391712
+SHUFFLE	COPY_MAP_DATA	71741000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4687560
+SHUFFLE	COMPRESS_BYTE_COUNT	1439877
+SHUFFLE	COPY_MAP_DATA	179277000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1664927
+SHUFFLE	COMPRESS_BYTE_COUNT	519693
+SHUFFLE	COPY_MAP_DATA	36116000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1667880
+SHUFFLE	COMPRESS_BYTE_COUNT	520348
+SHUFFLE	COPY_MAP_DATA	246639000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4423235
+SHUFFLE	COMPRESS_BYTE_COUNT	1374468
+SHUFFLE	COPY_MAP_DATA	186392000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1659678
+SHUFFLE	COMPRESS_BYTE_COUNT	517606
+SHUFFLE	COPY_MAP_DATA	28779000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4445771
+SHUFFLE	COMPRESS_BYTE_COUNT	1381939
+SHUFFLE	COPY_MAP_DATA	103288000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1741064
+SHUFFLE	COMPRESS_BYTE_COUNT	538388
+SHUFFLE	COPY_MAP_DATA	55198000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4712365
+SHUFFLE	COMPRESS_BYTE_COUNT	1447249
+SHUFFLE	COPY_MAP_DATA	132668000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4430465
+SHUFFLE	COMPRESS_BYTE_COUNT	1376976
+SHUFFLE	COPY_MAP_DATA	107762000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1739039
+SHUFFLE	COMPRESS_BYTE_COUNT	537189
+SHUFFLE	COPY_MAP_DATA	784928000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1739073
+SHUFFLE	COMPRESS_BYTE_COUNT	537197
+SHUFFLE	COPY_MAP_DATA	33767000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1666593
+SHUFFLE	COMPRESS_BYTE_COUNT	519698
+SHUFFLE	COPY_MAP_DATA	2066941000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1741138
+SHUFFLE	COMPRESS_BYTE_COUNT	538526
+SHUFFLE	COPY_MAP_DATA	28258000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1581691
+SHUFFLE	COMPRESS_BYTE_COUNT	499774
+SHUFFLE	COPY_MAP_DATA	25800000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1659817
+SHUFFLE	COMPRESS_BYTE_COUNT	518330
+SHUFFLE	COPY_MAP_DATA	534762000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1623360
+SHUFFLE	COMPRESS_BYTE_COUNT	507200
+SHUFFLE	COPY_MAP_DATA	118079000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1699082
+SHUFFLE	COMPRESS_BYTE_COUNT	525429
+SHUFFLE	COPY_MAP_DATA	26916000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1663014
+SHUFFLE	COMPRESS_BYTE_COUNT	518672
+SHUFFLE	COPY_MAP_DATA	26316000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1659654
+SHUFFLE	COMPRESS_BYTE_COUNT	517393
+SHUFFLE	COPY_MAP_DATA	41723000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4440226
+SHUFFLE	COMPRESS_BYTE_COUNT	1380557
+SHUFFLE	COPY_MAP_DATA	356811000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1669653
+SHUFFLE	COMPRESS_BYTE_COUNT	520984
+SHUFFLE	COPY_MAP_DATA	127773000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	480716886073
+MERGE	READ_WRITE	470702288073
+MERGE	READ_WRITE_COUNT	8
+MERGE	COMBINE	0
+MERGE	WRITE	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	10136311000
+SORT	READ_WRITE	9917044000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	216906600
+REDUCE	SETUP	359000
+REDUCE	SETUP_MEM	216906600
+REDUCE	CLEANUP	37000
+REDUCE	CLEANUP_MEM	213158432
+REDUCE	TOTAL_RUN	428294953000
+REDUCE	READ	8349137000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	411023732000
+REDUCE	WRITE	228003067000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	55880089
+REDUCE	VALUE_BYTE_COUNT	1647682903
+REDUCE	REDUCE_MEM	213160480
+REDUCE	WRITE	55243000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	1115247228073
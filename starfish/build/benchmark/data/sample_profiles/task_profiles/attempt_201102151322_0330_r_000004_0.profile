@@ -0,0 +1,989 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5511431
+SHUFFLE	COMPRESS_BYTE_COUNT	1712854
+SHUFFLE	COPY_MAP_DATA	1266929000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5576717
+SHUFFLE	COMPRESS_BYTE_COUNT	1733052
+SHUFFLE	COPY_MAP_DATA	257776000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5492171
+SHUFFLE	COMPRESS_BYTE_COUNT	1707863
+SHUFFLE	COPY_MAP_DATA	496419000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5520138
+SHUFFLE	COMPRESS_BYTE_COUNT	1716799
+SHUFFLE	COPY_MAP_DATA	240615000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5480983
+SHUFFLE	COMPRESS_BYTE_COUNT	1704220
+SHUFFLE	COPY_MAP_DATA	360275000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5576096
+SHUFFLE	COMPRESS_BYTE_COUNT	1711526
+SHUFFLE	COPY_MAP_DATA	209327000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5528666
+SHUFFLE	COMPRESS_BYTE_COUNT	1718663
+SHUFFLE	COPY_MAP_DATA	486193000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5491535
+SHUFFLE	COMPRESS_BYTE_COUNT	1728807
+SHUFFLE	COPY_MAP_DATA	254136000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5575287
+SHUFFLE	COMPRESS_BYTE_COUNT	1730689
+SHUFFLE	COPY_MAP_DATA	562312000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5538796
+SHUFFLE	COMPRESS_BYTE_COUNT	1720678
+SHUFFLE	COPY_MAP_DATA	553447000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5533030
+SHUFFLE	COMPRESS_BYTE_COUNT	1719196
+SHUFFLE	COPY_MAP_DATA	134749000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5531272
+SHUFFLE	COMPRESS_BYTE_COUNT	1741466
+SHUFFLE	COPY_MAP_DATA	136899000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5530303
+SHUFFLE	COMPRESS_BYTE_COUNT	1719670
+SHUFFLE	COPY_MAP_DATA	175726000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5546254
+SHUFFLE	COMPRESS_BYTE_COUNT	1723037
+SHUFFLE	COPY_MAP_DATA	585459000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5500351
+SHUFFLE	COMPRESS_BYTE_COUNT	1709659
+SHUFFLE	COPY_MAP_DATA	122536000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5522319
+SHUFFLE	COMPRESS_BYTE_COUNT	1716491
+SHUFFLE	COPY_MAP_DATA	358842000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5490064
+SHUFFLE	COMPRESS_BYTE_COUNT	1707291
+SHUFFLE	COPY_MAP_DATA	319263000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5519625
+SHUFFLE	COMPRESS_BYTE_COUNT	1714907
+SHUFFLE	COPY_MAP_DATA	349204000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5493726
+SHUFFLE	COMPRESS_BYTE_COUNT	1707530
+SHUFFLE	COPY_MAP_DATA	342309000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5472331
+SHUFFLE	COMPRESS_BYTE_COUNT	1701517
+SHUFFLE	COPY_MAP_DATA	225652000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5501983
+SHUFFLE	COMPRESS_BYTE_COUNT	1731976
+SHUFFLE	COPY_MAP_DATA	88654000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5565158
+SHUFFLE	COMPRESS_BYTE_COUNT	1729245
+SHUFFLE	COPY_MAP_DATA	165834000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5499888
+SHUFFLE	COMPRESS_BYTE_COUNT	1708077
+SHUFFLE	COPY_MAP_DATA	119163000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5461308
+SHUFFLE	COMPRESS_BYTE_COUNT	1720496
+SHUFFLE	COPY_MAP_DATA	157196000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5526941
+SHUFFLE	COMPRESS_BYTE_COUNT	1717307
+SHUFFLE	COPY_MAP_DATA	442356000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5507011
+SHUFFLE	COMPRESS_BYTE_COUNT	1712115
+SHUFFLE	COPY_MAP_DATA	318998000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5501048
+SHUFFLE	COMPRESS_BYTE_COUNT	1710453
+SHUFFLE	COPY_MAP_DATA	821726000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5553614
+SHUFFLE	COMPRESS_BYTE_COUNT	1726718
+SHUFFLE	COPY_MAP_DATA	1300174000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5518600
+SHUFFLE	COMPRESS_BYTE_COUNT	1716397
+SHUFFLE	COPY_MAP_DATA	4099480000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5487601
+SHUFFLE	COMPRESS_BYTE_COUNT	1754409
+SHUFFLE	COPY_MAP_DATA	321910000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5522979
+SHUFFLE	COMPRESS_BYTE_COUNT	1716556
+SHUFFLE	COPY_MAP_DATA	117660000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5582711
+SHUFFLE	COMPRESS_BYTE_COUNT	1712125
+SHUFFLE	COPY_MAP_DATA	1604396000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5496267
+SHUFFLE	COMPRESS_BYTE_COUNT	1709216
+SHUFFLE	COPY_MAP_DATA	85191000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5561873
+SHUFFLE	COMPRESS_BYTE_COUNT	1707121
+SHUFFLE	COPY_MAP_DATA	148716000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5558005
+SHUFFLE	COMPRESS_BYTE_COUNT	1727330
+SHUFFLE	COPY_MAP_DATA	95983000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5520595
+SHUFFLE	COMPRESS_BYTE_COUNT	1716077
+SHUFFLE	COPY_MAP_DATA	84232000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5526693
+SHUFFLE	COMPRESS_BYTE_COUNT	1717618
+SHUFFLE	COPY_MAP_DATA	110190000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5522895
+SHUFFLE	COMPRESS_BYTE_COUNT	1714394
+SHUFFLE	COPY_MAP_DATA	1075132000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5525665
+SHUFFLE	COMPRESS_BYTE_COUNT	1697259
+SHUFFLE	COPY_MAP_DATA	92572000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5469494
+SHUFFLE	COMPRESS_BYTE_COUNT	1700983
+SHUFFLE	COPY_MAP_DATA	204099000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5536830
+SHUFFLE	COMPRESS_BYTE_COUNT	1721357
+SHUFFLE	COPY_MAP_DATA	217907000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5480984
+SHUFFLE	COMPRESS_BYTE_COUNT	1703428
+SHUFFLE	COPY_MAP_DATA	186445000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5474388
+SHUFFLE	COMPRESS_BYTE_COUNT	1703224
+SHUFFLE	COPY_MAP_DATA	328482000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5476808
+SHUFFLE	COMPRESS_BYTE_COUNT	1702949
+SHUFFLE	COPY_MAP_DATA	2583482000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5576457
+SHUFFLE	COMPRESS_BYTE_COUNT	1711446
+SHUFFLE	COPY_MAP_DATA	192437000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5494350
+SHUFFLE	COMPRESS_BYTE_COUNT	1687363
+SHUFFLE	COPY_MAP_DATA	154102000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5481477
+SHUFFLE	COMPRESS_BYTE_COUNT	1726206
+SHUFFLE	COPY_MAP_DATA	128614000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5508488
+SHUFFLE	COMPRESS_BYTE_COUNT	1712250
+SHUFFLE	COPY_MAP_DATA	8610177000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5548773
+SHUFFLE	COMPRESS_BYTE_COUNT	1704264
+SHUFFLE	COPY_MAP_DATA	89832000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5533661
+SHUFFLE	COMPRESS_BYTE_COUNT	1699139
+SHUFFLE	COPY_MAP_DATA	1049362000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5521095
+SHUFFLE	COMPRESS_BYTE_COUNT	1715905
+SHUFFLE	COPY_MAP_DATA	1149158000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5504656
+SHUFFLE	COMPRESS_BYTE_COUNT	1689687
+SHUFFLE	COPY_MAP_DATA	186306000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5583863
+SHUFFLE	COMPRESS_BYTE_COUNT	1713369
+SHUFFLE	COPY_MAP_DATA	281621000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5569901
+SHUFFLE	COMPRESS_BYTE_COUNT	1710139
+SHUFFLE	COPY_MAP_DATA	156317000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5443669
+SHUFFLE	COMPRESS_BYTE_COUNT	1693180
+SHUFFLE	COPY_MAP_DATA	251302000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5514327
+SHUFFLE	COMPRESS_BYTE_COUNT	1711586
+SHUFFLE	COPY_MAP_DATA	93895000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5496897
+SHUFFLE	COMPRESS_BYTE_COUNT	1708691
+SHUFFLE	COPY_MAP_DATA	109130000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5486859
+SHUFFLE	COMPRESS_BYTE_COUNT	1684902
+SHUFFLE	COPY_MAP_DATA	115011000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5590117
+SHUFFLE	COMPRESS_BYTE_COUNT	1715019
+SHUFFLE	COPY_MAP_DATA	670397000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5469768
+SHUFFLE	COMPRESS_BYTE_COUNT	1680308
+SHUFFLE	COPY_MAP_DATA	142780000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5524662
+SHUFFLE	COMPRESS_BYTE_COUNT	1697002
+SHUFFLE	COPY_MAP_DATA	1086859000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5557339
+SHUFFLE	COMPRESS_BYTE_COUNT	1705397
+SHUFFLE	COPY_MAP_DATA	4709512000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5537491
+SHUFFLE	COMPRESS_BYTE_COUNT	1699735
+SHUFFLE	COPY_MAP_DATA	103271000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5524677
+SHUFFLE	COMPRESS_BYTE_COUNT	1695388
+SHUFFLE	COPY_MAP_DATA	439805000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5535352
+SHUFFLE	COMPRESS_BYTE_COUNT	1698860
+SHUFFLE	COPY_MAP_DATA	89112000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5573948
+SHUFFLE	COMPRESS_BYTE_COUNT	1710796
+SHUFFLE	COPY_MAP_DATA	107976000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5516554
+SHUFFLE	COMPRESS_BYTE_COUNT	1693517
+SHUFFLE	COPY_MAP_DATA	3917937000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5526154
+SHUFFLE	COMPRESS_BYTE_COUNT	1735687
+SHUFFLE	COPY_MAP_DATA	284848000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5524650
+SHUFFLE	COMPRESS_BYTE_COUNT	1738770
+SHUFFLE	COPY_MAP_DATA	107966000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5528091
+SHUFFLE	COMPRESS_BYTE_COUNT	1696604
+SHUFFLE	COPY_MAP_DATA	83829000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5535050
+SHUFFLE	COMPRESS_BYTE_COUNT	1698284
+SHUFFLE	COPY_MAP_DATA	217675000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5593523
+SHUFFLE	COMPRESS_BYTE_COUNT	1716797
+SHUFFLE	COPY_MAP_DATA	92854000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5511561
+SHUFFLE	COMPRESS_BYTE_COUNT	1691901
+SHUFFLE	COPY_MAP_DATA	271844000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5516856
+SHUFFLE	COMPRESS_BYTE_COUNT	1694457
+SHUFFLE	COPY_MAP_DATA	224009000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5530070
+SHUFFLE	COMPRESS_BYTE_COUNT	1698464
+SHUFFLE	COPY_MAP_DATA	330615000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5551432
+SHUFFLE	COMPRESS_BYTE_COUNT	1704521
+SHUFFLE	COPY_MAP_DATA	124111000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5531280
+SHUFFLE	COMPRESS_BYTE_COUNT	1697967
+SHUFFLE	COPY_MAP_DATA	244310000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5573171
+SHUFFLE	COMPRESS_BYTE_COUNT	1710873
+SHUFFLE	COPY_MAP_DATA	560857000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5470680
+SHUFFLE	COMPRESS_BYTE_COUNT	1679928
+SHUFFLE	COPY_MAP_DATA	186115000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5540194
+SHUFFLE	COMPRESS_BYTE_COUNT	1701042
+SHUFFLE	COPY_MAP_DATA	701426000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5528155
+SHUFFLE	COMPRESS_BYTE_COUNT	1698050
+SHUFFLE	COPY_MAP_DATA	214363000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5522658
+SHUFFLE	COMPRESS_BYTE_COUNT	1695342
+SHUFFLE	COPY_MAP_DATA	118205000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5528666
+SHUFFLE	COMPRESS_BYTE_COUNT	1697347
+SHUFFLE	COPY_MAP_DATA	89847000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5478326
+SHUFFLE	COMPRESS_BYTE_COUNT	1723991
+SHUFFLE	COPY_MAP_DATA	130117000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5572487
+SHUFFLE	COMPRESS_BYTE_COUNT	1711752
+SHUFFLE	COPY_MAP_DATA	91568000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5542755
+SHUFFLE	COMPRESS_BYTE_COUNT	1701097
+SHUFFLE	COPY_MAP_DATA	89076000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5529517
+SHUFFLE	COMPRESS_BYTE_COUNT	1698034
+SHUFFLE	COPY_MAP_DATA	89878000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5599941
+SHUFFLE	COMPRESS_BYTE_COUNT	1718616
+SHUFFLE	COPY_MAP_DATA	117962000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5558803
+SHUFFLE	COMPRESS_BYTE_COUNT	1706361
+SHUFFLE	COPY_MAP_DATA	2379033000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5537205
+SHUFFLE	COMPRESS_BYTE_COUNT	1699719
+SHUFFLE	COPY_MAP_DATA	963073000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5546419
+SHUFFLE	COMPRESS_BYTE_COUNT	1702928
+SHUFFLE	COPY_MAP_DATA	107272000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5527003
+SHUFFLE	COMPRESS_BYTE_COUNT	1695791
+SHUFFLE	COPY_MAP_DATA	90280000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5577903
+SHUFFLE	COMPRESS_BYTE_COUNT	1713029
+SHUFFLE	COPY_MAP_DATA	88673000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5576462
+SHUFFLE	COMPRESS_BYTE_COUNT	1712197
+SHUFFLE	COPY_MAP_DATA	86879000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5500842
+SHUFFLE	COMPRESS_BYTE_COUNT	1688182
+SHUFFLE	COPY_MAP_DATA	367020000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5566516
+SHUFFLE	COMPRESS_BYTE_COUNT	1707834
+SHUFFLE	COPY_MAP_DATA	409871000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5502595
+SHUFFLE	COMPRESS_BYTE_COUNT	1710428
+SHUFFLE	COPY_MAP_DATA	643729000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5551870
+SHUFFLE	COMPRESS_BYTE_COUNT	1703704
+SHUFFLE	COPY_MAP_DATA	335476000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5505684
+SHUFFLE	COMPRESS_BYTE_COUNT	1691310
+SHUFFLE	COPY_MAP_DATA	142355000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5523375
+SHUFFLE	COMPRESS_BYTE_COUNT	1696294
+SHUFFLE	COPY_MAP_DATA	1298304000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5545029
+SHUFFLE	COMPRESS_BYTE_COUNT	1703648
+SHUFFLE	COPY_MAP_DATA	126356000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5517652
+SHUFFLE	COMPRESS_BYTE_COUNT	1694318
+SHUFFLE	COPY_MAP_DATA	100527000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5507404
+SHUFFLE	COMPRESS_BYTE_COUNT	1691018
+SHUFFLE	COPY_MAP_DATA	96892000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5541495
+SHUFFLE	COMPRESS_BYTE_COUNT	1722981
+SHUFFLE	COPY_MAP_DATA	236339000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5588209
+SHUFFLE	COMPRESS_BYTE_COUNT	1715467
+SHUFFLE	COPY_MAP_DATA	1482530000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5571478
+SHUFFLE	COMPRESS_BYTE_COUNT	1709925
+SHUFFLE	COPY_MAP_DATA	87120000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5503868
+SHUFFLE	COMPRESS_BYTE_COUNT	1710030
+SHUFFLE	COPY_MAP_DATA	199794000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5572128
+SHUFFLE	COMPRESS_BYTE_COUNT	1710674
+SHUFFLE	COPY_MAP_DATA	318594000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5544532
+SHUFFLE	COMPRESS_BYTE_COUNT	1702293
+SHUFFLE	COPY_MAP_DATA	88352000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5589678
+SHUFFLE	COMPRESS_BYTE_COUNT	1715782
+SHUFFLE	COPY_MAP_DATA	208903000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5502768
+SHUFFLE	COMPRESS_BYTE_COUNT	1710825
+SHUFFLE	COPY_MAP_DATA	493010000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5504769
+SHUFFLE	COMPRESS_BYTE_COUNT	1689186
+SHUFFLE	COPY_MAP_DATA	90060000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5510197
+SHUFFLE	COMPRESS_BYTE_COUNT	1713190
+SHUFFLE	COPY_MAP_DATA	111010000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5524596
+SHUFFLE	COMPRESS_BYTE_COUNT	1716822
+SHUFFLE	COPY_MAP_DATA	757418000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5538463
+SHUFFLE	COMPRESS_BYTE_COUNT	1699721
+SHUFFLE	COPY_MAP_DATA	90113000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5513233
+SHUFFLE	COMPRESS_BYTE_COUNT	1712580
+SHUFFLE	COPY_MAP_DATA	538998000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5521677
+SHUFFLE	COMPRESS_BYTE_COUNT	1694187
+SHUFFLE	COPY_MAP_DATA	126855000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5568852
+SHUFFLE	COMPRESS_BYTE_COUNT	1708737
+SHUFFLE	COPY_MAP_DATA	108653000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5602952
+SHUFFLE	COMPRESS_BYTE_COUNT	1719318
+SHUFFLE	COPY_MAP_DATA	431094000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5516527
+SHUFFLE	COMPRESS_BYTE_COUNT	1713395
+SHUFFLE	COPY_MAP_DATA	583244000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5517756
+SHUFFLE	COMPRESS_BYTE_COUNT	1713699
+SHUFFLE	COPY_MAP_DATA	563947000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5549087
+SHUFFLE	COMPRESS_BYTE_COUNT	1703575
+SHUFFLE	COPY_MAP_DATA	620409000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5542201
+SHUFFLE	COMPRESS_BYTE_COUNT	1701134
+SHUFFLE	COPY_MAP_DATA	2186129152
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5520225
+SHUFFLE	COMPRESS_BYTE_COUNT	1716236
+SHUFFLE	COPY_MAP_DATA	94334000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5513388
+SHUFFLE	COMPRESS_BYTE_COUNT	1712984
+SHUFFLE	COPY_MAP_DATA	90340000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5490912
+SHUFFLE	COMPRESS_BYTE_COUNT	1708030
+SHUFFLE	COPY_MAP_DATA	158606000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5555968
+SHUFFLE	COMPRESS_BYTE_COUNT	1725212
+SHUFFLE	COPY_MAP_DATA	172399000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5490916
+SHUFFLE	COMPRESS_BYTE_COUNT	1705932
+SHUFFLE	COPY_MAP_DATA	188261000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5521167
+SHUFFLE	COMPRESS_BYTE_COUNT	1716079
+SHUFFLE	COPY_MAP_DATA	86271000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5495060
+SHUFFLE	COMPRESS_BYTE_COUNT	1707890
+SHUFFLE	COPY_MAP_DATA	158612000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5565623
+SHUFFLE	COMPRESS_BYTE_COUNT	1708098
+SHUFFLE	COPY_MAP_DATA	499633000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5510922
+SHUFFLE	COMPRESS_BYTE_COUNT	1712306
+SHUFFLE	COPY_MAP_DATA	249096000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5521639
+SHUFFLE	COMPRESS_BYTE_COUNT	1715155
+SHUFFLE	COPY_MAP_DATA	99422000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5514716
+SHUFFLE	COMPRESS_BYTE_COUNT	1713778
+SHUFFLE	COPY_MAP_DATA	102625000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5524573
+SHUFFLE	COMPRESS_BYTE_COUNT	1716803
+SHUFFLE	COPY_MAP_DATA	89519000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5481881
+SHUFFLE	COMPRESS_BYTE_COUNT	1702214
+SHUFFLE	COPY_MAP_DATA	84005000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5473703
+SHUFFLE	COMPRESS_BYTE_COUNT	1700732
+SHUFFLE	COPY_MAP_DATA	434149000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5607788
+SHUFFLE	COMPRESS_BYTE_COUNT	1741527
+SHUFFLE	COPY_MAP_DATA	900832000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5569138
+SHUFFLE	COMPRESS_BYTE_COUNT	1734755
+SHUFFLE	COPY_MAP_DATA	296581000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5521837
+SHUFFLE	COMPRESS_BYTE_COUNT	1715891
+SHUFFLE	COPY_MAP_DATA	470028000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5473932
+SHUFFLE	COMPRESS_BYTE_COUNT	1701611
+SHUFFLE	COPY_MAP_DATA	92132000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5535193
+SHUFFLE	COMPRESS_BYTE_COUNT	1720427
+SHUFFLE	COPY_MAP_DATA	163713000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5496069
+SHUFFLE	COMPRESS_BYTE_COUNT	1708434
+SHUFFLE	COPY_MAP_DATA	170683000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5489276
+SHUFFLE	COMPRESS_BYTE_COUNT	1705425
+SHUFFLE	COPY_MAP_DATA	97669000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5538465
+SHUFFLE	COMPRESS_BYTE_COUNT	1724722
+SHUFFLE	COPY_MAP_DATA	86743000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5532710
+SHUFFLE	COMPRESS_BYTE_COUNT	1720548
+SHUFFLE	COPY_MAP_DATA	118467000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5536875
+SHUFFLE	COMPRESS_BYTE_COUNT	1721253
+SHUFFLE	COPY_MAP_DATA	786521000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5469292
+SHUFFLE	COMPRESS_BYTE_COUNT	1699784
+SHUFFLE	COPY_MAP_DATA	178614000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5524999
+SHUFFLE	COMPRESS_BYTE_COUNT	1717795
+SHUFFLE	COPY_MAP_DATA	153668000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5547951
+SHUFFLE	COMPRESS_BYTE_COUNT	1727795
+SHUFFLE	COPY_MAP_DATA	117667000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5551890
+SHUFFLE	COMPRESS_BYTE_COUNT	1730455
+SHUFFLE	COPY_MAP_DATA	97812000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5520119
+SHUFFLE	COMPRESS_BYTE_COUNT	1736571
+SHUFFLE	COPY_MAP_DATA	1175691000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5489451
+SHUFFLE	COMPRESS_BYTE_COUNT	1706774
+SHUFFLE	COPY_MAP_DATA	157135000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5563060
+SHUFFLE	COMPRESS_BYTE_COUNT	1733569
+SHUFFLE	COPY_MAP_DATA	437334000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5502176
+SHUFFLE	COMPRESS_BYTE_COUNT	1710339
+SHUFFLE	COPY_MAP_DATA	195276000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5504489
+SHUFFLE	COMPRESS_BYTE_COUNT	1711240
+SHUFFLE	COPY_MAP_DATA	96186000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5556934
+SHUFFLE	COMPRESS_BYTE_COUNT	1729441
+SHUFFLE	COPY_MAP_DATA	205706000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5536514
+SHUFFLE	COMPRESS_BYTE_COUNT	1726015
+SHUFFLE	COPY_MAP_DATA	116146000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5585526
+SHUFFLE	COMPRESS_BYTE_COUNT	1724682
+SHUFFLE	COPY_MAP_DATA	1240927000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5509086
+SHUFFLE	COMPRESS_BYTE_COUNT	1746699
+SHUFFLE	COPY_MAP_DATA	529672000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5600269
+SHUFFLE	COMPRESS_BYTE_COUNT	1728907
+SHUFFLE	COPY_MAP_DATA	151156000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4775139
+SHUFFLE	COMPRESS_BYTE_COUNT	1466181
+SHUFFLE	COPY_MAP_DATA	79768000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4716971
+SHUFFLE	COMPRESS_BYTE_COUNT	1447889
+SHUFFLE	COPY_MAP_DATA	475939000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5592731
+SHUFFLE	COMPRESS_BYTE_COUNT	1725506
+SHUFFLE	COPY_MAP_DATA	134277000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4468009
+SHUFFLE	COMPRESS_BYTE_COUNT	1388658
+SHUFFLE	COPY_MAP_DATA	186973000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5589589
+SHUFFLE	COMPRESS_BYTE_COUNT	1725067
+SHUFFLE	COPY_MAP_DATA	91543000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5593770
+SHUFFLE	COMPRESS_BYTE_COUNT	1727121
+SHUFFLE	COPY_MAP_DATA	160296000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5586195
+SHUFFLE	COMPRESS_BYTE_COUNT	1724011
+SHUFFLE	COPY_MAP_DATA	91060000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4718027
+SHUFFLE	COMPRESS_BYTE_COUNT	1448653
+SHUFFLE	COPY_MAP_DATA	116536000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4422784
+SHUFFLE	COMPRESS_BYTE_COUNT	1374324
+SHUFFLE	COPY_MAP_DATA	232566000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5611185
+SHUFFLE	COMPRESS_BYTE_COUNT	1732846
+SHUFFLE	COPY_MAP_DATA	155007000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5580089
+SHUFFLE	COMPRESS_BYTE_COUNT	1723571
+SHUFFLE	COPY_MAP_DATA	185581000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5594212
+SHUFFLE	COMPRESS_BYTE_COUNT	1727127
+SHUFFLE	COPY_MAP_DATA	186925000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5557709
+SHUFFLE	COMPRESS_BYTE_COUNT	1731592
+SHUFFLE	COPY_MAP_DATA	104741000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4725820
+SHUFFLE	COMPRESS_BYTE_COUNT	1451713
+SHUFFLE	COPY_MAP_DATA	136497000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5583740
+SHUFFLE	COMPRESS_BYTE_COUNT	1724031
+SHUFFLE	COPY_MAP_DATA	155443000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4769756
+SHUFFLE	COMPRESS_BYTE_COUNT	1463818
+SHUFFLE	COPY_MAP_DATA	77211000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5600649
+SHUFFLE	COMPRESS_BYTE_COUNT	1729346
+SHUFFLE	COPY_MAP_DATA	92240000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4746999
+SHUFFLE	COMPRESS_BYTE_COUNT	1457984
+SHUFFLE	COPY_MAP_DATA	103918000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5545974
+SHUFFLE	COMPRESS_BYTE_COUNT	1729022
+SHUFFLE	COPY_MAP_DATA	1585229000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4770375
+SHUFFLE	COMPRESS_BYTE_COUNT	1463682
+SHUFFLE	COPY_MAP_DATA	76847000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5609398
+SHUFFLE	COMPRESS_BYTE_COUNT	1730500
+SHUFFLE	COPY_MAP_DATA	341429000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5557355
+SHUFFLE	COMPRESS_BYTE_COUNT	1732015
+SHUFFLE	COPY_MAP_DATA	542935000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5535636
+SHUFFLE	COMPRESS_BYTE_COUNT	1725393
+SHUFFLE	COPY_MAP_DATA	162259000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1732796
+SHUFFLE	COMPRESS_BYTE_COUNT	536161
+SHUFFLE	COPY_MAP_DATA	587989000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5561271
+SHUFFLE	COMPRESS_BYTE_COUNT	1732209
+SHUFFLE	COPY_MAP_DATA	92297000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4741785
+SHUFFLE	COMPRESS_BYTE_COUNT	1455696
+SHUFFLE	COPY_MAP_DATA	198310000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4777432
+SHUFFLE	COMPRESS_BYTE_COUNT	1466989
+SHUFFLE	COPY_MAP_DATA	207792000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5544853
+SHUFFLE	COMPRESS_BYTE_COUNT	1727508
+SHUFFLE	COPY_MAP_DATA	337255000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4486204
+SHUFFLE	COMPRESS_BYTE_COUNT	1393729
+SHUFFLE	COPY_MAP_DATA	76871000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5540740
+SHUFFLE	COMPRESS_BYTE_COUNT	1726551
+SHUFFLE	COPY_MAP_DATA	432259000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4471255
+SHUFFLE	COMPRESS_BYTE_COUNT	1389987
+SHUFFLE	COPY_MAP_DATA	234461000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4443977
+SHUFFLE	COMPRESS_BYTE_COUNT	1380395
+SHUFFLE	COPY_MAP_DATA	291882000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4427149
+SHUFFLE	COMPRESS_BYTE_COUNT	1375535
+SHUFFLE	COPY_MAP_DATA	71862000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5603844
+SHUFFLE	COMPRESS_BYTE_COUNT	1729093
+SHUFFLE	COPY_MAP_DATA	1657943000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4286127
+SHUFFLE	COMPRESS_BYTE_COUNT	1332215
+SHUFFLE	COPY_MAP_DATA	72173000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1734805
+SHUFFLE	COMPRESS_BYTE_COUNT	536573
+SHUFFLE	COPY_MAP_DATA	31102000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1739799
+SHUFFLE	COMPRESS_BYTE_COUNT	537840
+SHUFFLE	COPY_MAP_DATA	130579000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1738615
+SHUFFLE	COMPRESS_BYTE_COUNT	537243
+SHUFFLE	COPY_MAP_DATA	38947000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1660237
+SHUFFLE	COMPRESS_BYTE_COUNT	518140
+SHUFFLE	COPY_MAP_DATA	30017000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1740436
+SHUFFLE	COMPRESS_BYTE_COUNT	537756
+SHUFFLE	COPY_MAP_DATA	102313000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1739686
+SHUFFLE	COMPRESS_BYTE_COUNT	537797
+SHUFFLE	COPY_MAP_DATA	32160000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1736255
+SHUFFLE	COMPRESS_BYTE_COUNT	536390
+SHUFFLE	COPY_MAP_DATA	28775000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5561185
+SHUFFLE	COMPRESS_BYTE_COUNT	1732652
+SHUFFLE	COPY_MAP_DATA	288641000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4774681
+SHUFFLE	COMPRESS_BYTE_COUNT	1466446
+SHUFFLE	COPY_MAP_DATA	2465531000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1664886
+SHUFFLE	COMPRESS_BYTE_COUNT	519629
+SHUFFLE	COPY_MAP_DATA	35395000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1743227
+SHUFFLE	COMPRESS_BYTE_COUNT	538535
+SHUFFLE	COPY_MAP_DATA	278756000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4435932
+SHUFFLE	COMPRESS_BYTE_COUNT	1377620
+SHUFFLE	COPY_MAP_DATA	3240040000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1739384
+SHUFFLE	COMPRESS_BYTE_COUNT	537865
+SHUFFLE	COPY_MAP_DATA	30641000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1668543
+SHUFFLE	COMPRESS_BYTE_COUNT	520921
+SHUFFLE	COPY_MAP_DATA	29195000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1661388
+SHUFFLE	COMPRESS_BYTE_COUNT	518271
+SHUFFLE	COPY_MAP_DATA	42620000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4383767
+SHUFFLE	COMPRESS_BYTE_COUNT	1362205
+SHUFFLE	COPY_MAP_DATA	964092000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4510470
+SHUFFLE	COMPRESS_BYTE_COUNT	1401204
+SHUFFLE	COPY_MAP_DATA	103651000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1658320
+SHUFFLE	COMPRESS_BYTE_COUNT	517814
+SHUFFLE	COPY_MAP_DATA	27214000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1667087
+SHUFFLE	COMPRESS_BYTE_COUNT	519995
+SHUFFLE	COPY_MAP_DATA	46333000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4587224
+SHUFFLE	COMPRESS_BYTE_COUNT	1408379
+SHUFFLE	COPY_MAP_DATA	97515000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4751427
+SHUFFLE	COMPRESS_BYTE_COUNT	1457850
+SHUFFLE	COPY_MAP_DATA	80671000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4743279
+SHUFFLE	COMPRESS_BYTE_COUNT	1458072
+SHUFFLE	COPY_MAP_DATA	153944000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4455025
+SHUFFLE	COMPRESS_BYTE_COUNT	1383998
+SHUFFLE	COPY_MAP_DATA	111116000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4453315
+SHUFFLE	COMPRESS_BYTE_COUNT	1384077
+SHUFFLE	COPY_MAP_DATA	130724000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4441998
+SHUFFLE	COMPRESS_BYTE_COUNT	1380012
+SHUFFLE	COPY_MAP_DATA	93369000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1669420
+SHUFFLE	COMPRESS_BYTE_COUNT	520873
+SHUFFLE	COPY_MAP_DATA	50561000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4124280
+SHUFFLE	COMPRESS_BYTE_COUNT	1299682
+SHUFFLE	COPY_MAP_DATA	162943000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1667087
+SHUFFLE	COMPRESS_BYTE_COUNT	520570
+SHUFFLE	COPY_MAP_DATA	29449000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1660111
+SHUFFLE	COMPRESS_BYTE_COUNT	517418
+SHUFFLE	COPY_MAP_DATA	29418000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4438729
+SHUFFLE	COMPRESS_BYTE_COUNT	1379028
+SHUFFLE	COPY_MAP_DATA	80439000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1659150
+SHUFFLE	COMPRESS_BYTE_COUNT	518215
+SHUFFLE	COPY_MAP_DATA	340485000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1739141
+SHUFFLE	COMPRESS_BYTE_COUNT	537745
+SHUFFLE	COPY_MAP_DATA	42540000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4733754
+SHUFFLE	COMPRESS_BYTE_COUNT	1453439
+SHUFFLE	COPY_MAP_DATA	188920000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1735856
+SHUFFLE	COMPRESS_BYTE_COUNT	537130
+SHUFFLE	COPY_MAP_DATA	30029000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1734006
+SHUFFLE	COMPRESS_BYTE_COUNT	536215
+SHUFFLE	COPY_MAP_DATA	1474502000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1736350
+SHUFFLE	COMPRESS_BYTE_COUNT	537625
+SHUFFLE	COPY_MAP_DATA	29848000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1588898
+SHUFFLE	COMPRESS_BYTE_COUNT	501286
+SHUFFLE	COPY_MAP_DATA	122031000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1662359
+SHUFFLE	COMPRESS_BYTE_COUNT	518386
+SHUFFLE	COPY_MAP_DATA	31656000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1700099
+SHUFFLE	COMPRESS_BYTE_COUNT	524700
+SHUFFLE	COPY_MAP_DATA	29020000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1663737
+SHUFFLE	COMPRESS_BYTE_COUNT	519079
+SHUFFLE	COPY_MAP_DATA	85848000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1658971
+SHUFFLE	COMPRESS_BYTE_COUNT	518060
+SHUFFLE	COPY_MAP_DATA	28620000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1625582
+SHUFFLE	COMPRESS_BYTE_COUNT	507413
+SHUFFLE	COPY_MAP_DATA	28667000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1666323
+SHUFFLE	COMPRESS_BYTE_COUNT	520415
+SHUFFLE	COPY_MAP_DATA	107504000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4464031
+SHUFFLE	COMPRESS_BYTE_COUNT	1387064
+SHUFFLE	COPY_MAP_DATA	79512000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	477290003152
+MERGE	READ_WRITE	468717327152
+MERGE	READ_WRITE_COUNT	8
+MERGE	COMBINE	0
+MERGE	WRITE	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	9905087000
+SORT	READ_WRITE	9705658000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	185926984
+REDUCE	SETUP	824000
+REDUCE	SETUP_MEM	185926984
+REDUCE	CLEANUP	48000
+REDUCE	CLEANUP_MEM	188317664
+REDUCE	TOTAL_RUN	438937112848
+REDUCE	READ	7095949000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	419984141848
+REDUCE	WRITE	229919179848
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	55883970
+REDUCE	VALUE_BYTE_COUNT	1647696354
+REDUCE	REDUCE_MEM	188319712
+REDUCE	WRITE	142156000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	1119972965848
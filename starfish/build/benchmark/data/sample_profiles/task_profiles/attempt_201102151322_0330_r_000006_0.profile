@@ -0,0 +1,989 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5541398
+SHUFFLE	COMPRESS_BYTE_COUNT	1723859
+SHUFFLE	COPY_MAP_DATA	1229845000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5499232
+SHUFFLE	COMPRESS_BYTE_COUNT	1731552
+SHUFFLE	COPY_MAP_DATA	191584000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5495874
+SHUFFLE	COMPRESS_BYTE_COUNT	1707888
+SHUFFLE	COPY_MAP_DATA	155511000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5477945
+SHUFFLE	COMPRESS_BYTE_COUNT	1702809
+SHUFFLE	COPY_MAP_DATA	567344000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5450995
+SHUFFLE	COMPRESS_BYTE_COUNT	1694421
+SHUFFLE	COPY_MAP_DATA	136826000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5596837
+SHUFFLE	COMPRESS_BYTE_COUNT	1717894
+SHUFFLE	COPY_MAP_DATA	131496000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5517928
+SHUFFLE	COMPRESS_BYTE_COUNT	1714174
+SHUFFLE	COPY_MAP_DATA	112656000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5469745
+SHUFFLE	COMPRESS_BYTE_COUNT	1700022
+SHUFFLE	COPY_MAP_DATA	93252000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5528209
+SHUFFLE	COMPRESS_BYTE_COUNT	1717753
+SHUFFLE	COPY_MAP_DATA	297955000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5545596
+SHUFFLE	COMPRESS_BYTE_COUNT	1722576
+SHUFFLE	COPY_MAP_DATA	452643000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5594064
+SHUFFLE	COMPRESS_BYTE_COUNT	1738732
+SHUFFLE	COPY_MAP_DATA	168514000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5484614
+SHUFFLE	COMPRESS_BYTE_COUNT	1704394
+SHUFFLE	COPY_MAP_DATA	98513000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5479781
+SHUFFLE	COMPRESS_BYTE_COUNT	1703051
+SHUFFLE	COPY_MAP_DATA	286837000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5503951
+SHUFFLE	COMPRESS_BYTE_COUNT	1732751
+SHUFFLE	COPY_MAP_DATA	130355000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5462434
+SHUFFLE	COMPRESS_BYTE_COUNT	1698579
+SHUFFLE	COPY_MAP_DATA	158090000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5518903
+SHUFFLE	COMPRESS_BYTE_COUNT	1714777
+SHUFFLE	COPY_MAP_DATA	115121000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5535322
+SHUFFLE	COMPRESS_BYTE_COUNT	1742643
+SHUFFLE	COPY_MAP_DATA	105110000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5496329
+SHUFFLE	COMPRESS_BYTE_COUNT	1731370
+SHUFFLE	COPY_MAP_DATA	89411000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5506596
+SHUFFLE	COMPRESS_BYTE_COUNT	1710155
+SHUFFLE	COPY_MAP_DATA	357930000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5514337
+SHUFFLE	COMPRESS_BYTE_COUNT	1713344
+SHUFFLE	COPY_MAP_DATA	185885000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5537385
+SHUFFLE	COMPRESS_BYTE_COUNT	1720687
+SHUFFLE	COPY_MAP_DATA	115021000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5488688
+SHUFFLE	COMPRESS_BYTE_COUNT	1705289
+SHUFFLE	COPY_MAP_DATA	216521000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5574301
+SHUFFLE	COMPRESS_BYTE_COUNT	1732382
+SHUFFLE	COPY_MAP_DATA	156916000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5547877
+SHUFFLE	COMPRESS_BYTE_COUNT	1724671
+SHUFFLE	COPY_MAP_DATA	89577000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5544327
+SHUFFLE	COMPRESS_BYTE_COUNT	1724430
+SHUFFLE	COPY_MAP_DATA	118651000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5529255
+SHUFFLE	COMPRESS_BYTE_COUNT	1717808
+SHUFFLE	COPY_MAP_DATA	104473000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5507399
+SHUFFLE	COMPRESS_BYTE_COUNT	1711256
+SHUFFLE	COPY_MAP_DATA	112886000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5513519
+SHUFFLE	COMPRESS_BYTE_COUNT	1714307
+SHUFFLE	COPY_MAP_DATA	2418978000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5522927
+SHUFFLE	COMPRESS_BYTE_COUNT	1715583
+SHUFFLE	COPY_MAP_DATA	484161000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5459209
+SHUFFLE	COMPRESS_BYTE_COUNT	1746231
+SHUFFLE	COPY_MAP_DATA	115722000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5482009
+SHUFFLE	COMPRESS_BYTE_COUNT	1703509
+SHUFFLE	COPY_MAP_DATA	85497000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5514274
+SHUFFLE	COMPRESS_BYTE_COUNT	1692512
+SHUFFLE	COPY_MAP_DATA	1282477000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5574978
+SHUFFLE	COMPRESS_BYTE_COUNT	1731837
+SHUFFLE	COPY_MAP_DATA	97132000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5523703
+SHUFFLE	COMPRESS_BYTE_COUNT	1717438
+SHUFFLE	COPY_MAP_DATA	264778000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5522841
+SHUFFLE	COMPRESS_BYTE_COUNT	1695510
+SHUFFLE	COPY_MAP_DATA	230918000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5459210
+SHUFFLE	COMPRESS_BYTE_COUNT	1696941
+SHUFFLE	COPY_MAP_DATA	132452000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5532650
+SHUFFLE	COMPRESS_BYTE_COUNT	1698070
+SHUFFLE	COPY_MAP_DATA	103565000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5490802
+SHUFFLE	COMPRESS_BYTE_COUNT	1706326
+SHUFFLE	COPY_MAP_DATA	110529000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5563328
+SHUFFLE	COMPRESS_BYTE_COUNT	1729548
+SHUFFLE	COPY_MAP_DATA	2763321000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5494515
+SHUFFLE	COMPRESS_BYTE_COUNT	1707856
+SHUFFLE	COPY_MAP_DATA	102628000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5479041
+SHUFFLE	COMPRESS_BYTE_COUNT	1725798
+SHUFFLE	COPY_MAP_DATA	218685000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5530960
+SHUFFLE	COMPRESS_BYTE_COUNT	1719618
+SHUFFLE	COPY_MAP_DATA	234551000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5557138
+SHUFFLE	COMPRESS_BYTE_COUNT	1728006
+SHUFFLE	COPY_MAP_DATA	95102000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5566048
+SHUFFLE	COMPRESS_BYTE_COUNT	1708845
+SHUFFLE	COPY_MAP_DATA	2360612000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5494406
+SHUFFLE	COMPRESS_BYTE_COUNT	1708668
+SHUFFLE	COPY_MAP_DATA	3469493000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5516977
+SHUFFLE	COMPRESS_BYTE_COUNT	1715372
+SHUFFLE	COPY_MAP_DATA	7625982000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5582605
+SHUFFLE	COMPRESS_BYTE_COUNT	1713291
+SHUFFLE	COPY_MAP_DATA	2404003000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5549059
+SHUFFLE	COMPRESS_BYTE_COUNT	1703384
+SHUFFLE	COPY_MAP_DATA	86810000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5480889
+SHUFFLE	COMPRESS_BYTE_COUNT	1704282
+SHUFFLE	COPY_MAP_DATA	230951000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5630960
+SHUFFLE	COMPRESS_BYTE_COUNT	1727636
+SHUFFLE	COPY_MAP_DATA	275724000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5496863
+SHUFFLE	COMPRESS_BYTE_COUNT	1709024
+SHUFFLE	COPY_MAP_DATA	105651000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5600426
+SHUFFLE	COMPRESS_BYTE_COUNT	1719573
+SHUFFLE	COPY_MAP_DATA	2178355000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5588240
+SHUFFLE	COMPRESS_BYTE_COUNT	1714495
+SHUFFLE	COPY_MAP_DATA	3423738000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5511209
+SHUFFLE	COMPRESS_BYTE_COUNT	1712236
+SHUFFLE	COPY_MAP_DATA	274068000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5575503
+SHUFFLE	COMPRESS_BYTE_COUNT	1711813
+SHUFFLE	COPY_MAP_DATA	480825000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5516857
+SHUFFLE	COMPRESS_BYTE_COUNT	1714414
+SHUFFLE	COPY_MAP_DATA	87165000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5526204
+SHUFFLE	COMPRESS_BYTE_COUNT	1715660
+SHUFFLE	COPY_MAP_DATA	135933000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5583128
+SHUFFLE	COMPRESS_BYTE_COUNT	1714461
+SHUFFLE	COPY_MAP_DATA	1275027000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5590375
+SHUFFLE	COMPRESS_BYTE_COUNT	1715614
+SHUFFLE	COPY_MAP_DATA	100043000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5553803
+SHUFFLE	COMPRESS_BYTE_COUNT	1704364
+SHUFFLE	COPY_MAP_DATA	85672000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5622409
+SHUFFLE	COMPRESS_BYTE_COUNT	1727283
+SHUFFLE	COPY_MAP_DATA	87577000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5540945
+SHUFFLE	COMPRESS_BYTE_COUNT	1700371
+SHUFFLE	COPY_MAP_DATA	8028083000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5558993
+SHUFFLE	COMPRESS_BYTE_COUNT	1705206
+SHUFFLE	COPY_MAP_DATA	1086396000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5501566
+SHUFFLE	COMPRESS_BYTE_COUNT	1689529
+SHUFFLE	COPY_MAP_DATA	111189000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5539074
+SHUFFLE	COMPRESS_BYTE_COUNT	1700345
+SHUFFLE	COPY_MAP_DATA	1609624000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5617033
+SHUFFLE	COMPRESS_BYTE_COUNT	1723384
+SHUFFLE	COPY_MAP_DATA	118738000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5576645
+SHUFFLE	COMPRESS_BYTE_COUNT	1711274
+SHUFFLE	COPY_MAP_DATA	140579000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5485860
+SHUFFLE	COMPRESS_BYTE_COUNT	1727160
+SHUFFLE	COPY_MAP_DATA	115577000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5521638
+SHUFFLE	COMPRESS_BYTE_COUNT	1735517
+SHUFFLE	COPY_MAP_DATA	2228724000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5563971
+SHUFFLE	COMPRESS_BYTE_COUNT	1707230
+SHUFFLE	COPY_MAP_DATA	3822784000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5548199
+SHUFFLE	COMPRESS_BYTE_COUNT	1703041
+SHUFFLE	COPY_MAP_DATA	124531000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5547870
+SHUFFLE	COMPRESS_BYTE_COUNT	1703110
+SHUFFLE	COPY_MAP_DATA	90336000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5522781
+SHUFFLE	COMPRESS_BYTE_COUNT	1696389
+SHUFFLE	COPY_MAP_DATA	122617000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5574843
+SHUFFLE	COMPRESS_BYTE_COUNT	1710539
+SHUFFLE	COPY_MAP_DATA	779906000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5553310
+SHUFFLE	COMPRESS_BYTE_COUNT	1704011
+SHUFFLE	COPY_MAP_DATA	164621000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5560264
+SHUFFLE	COMPRESS_BYTE_COUNT	1706797
+SHUFFLE	COPY_MAP_DATA	93467000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5583825
+SHUFFLE	COMPRESS_BYTE_COUNT	1713087
+SHUFFLE	COPY_MAP_DATA	1649722000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5562053
+SHUFFLE	COMPRESS_BYTE_COUNT	1708167
+SHUFFLE	COPY_MAP_DATA	105852000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5543096
+SHUFFLE	COMPRESS_BYTE_COUNT	1702472
+SHUFFLE	COPY_MAP_DATA	758724000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5470720
+SHUFFLE	COMPRESS_BYTE_COUNT	1679489
+SHUFFLE	COPY_MAP_DATA	1643623000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5537057
+SHUFFLE	COMPRESS_BYTE_COUNT	1698329
+SHUFFLE	COPY_MAP_DATA	8352186000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5533155
+SHUFFLE	COMPRESS_BYTE_COUNT	1698941
+SHUFFLE	COPY_MAP_DATA	1225276000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5616024
+SHUFFLE	COMPRESS_BYTE_COUNT	1723304
+SHUFFLE	COPY_MAP_DATA	88747000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5430340
+SHUFFLE	COMPRESS_BYTE_COUNT	1710801
+SHUFFLE	COPY_MAP_DATA	737033000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5545660
+SHUFFLE	COMPRESS_BYTE_COUNT	1702534
+SHUFFLE	COPY_MAP_DATA	1858887000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5540082
+SHUFFLE	COMPRESS_BYTE_COUNT	1700788
+SHUFFLE	COPY_MAP_DATA	116790000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5490660
+SHUFFLE	COMPRESS_BYTE_COUNT	1686129
+SHUFFLE	COPY_MAP_DATA	465819000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5518157
+SHUFFLE	COMPRESS_BYTE_COUNT	1693911
+SHUFFLE	COPY_MAP_DATA	174536000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5535120
+SHUFFLE	COMPRESS_BYTE_COUNT	1699175
+SHUFFLE	COPY_MAP_DATA	123305000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5541131
+SHUFFLE	COMPRESS_BYTE_COUNT	1700129
+SHUFFLE	COPY_MAP_DATA	5040629000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5544635
+SHUFFLE	COMPRESS_BYTE_COUNT	1701866
+SHUFFLE	COPY_MAP_DATA	86549000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5542560
+SHUFFLE	COMPRESS_BYTE_COUNT	1702091
+SHUFFLE	COPY_MAP_DATA	327702000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5487772
+SHUFFLE	COMPRESS_BYTE_COUNT	1684706
+SHUFFLE	COPY_MAP_DATA	84602000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5603732
+SHUFFLE	COMPRESS_BYTE_COUNT	1719349
+SHUFFLE	COPY_MAP_DATA	86649000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5577691
+SHUFFLE	COMPRESS_BYTE_COUNT	1711431
+SHUFFLE	COPY_MAP_DATA	122122000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5545659
+SHUFFLE	COMPRESS_BYTE_COUNT	1701799
+SHUFFLE	COPY_MAP_DATA	106733000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5507651
+SHUFFLE	COMPRESS_BYTE_COUNT	1711231
+SHUFFLE	COPY_MAP_DATA	104796000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5542403
+SHUFFLE	COMPRESS_BYTE_COUNT	1701969
+SHUFFLE	COPY_MAP_DATA	168933000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5585774
+SHUFFLE	COMPRESS_BYTE_COUNT	1714870
+SHUFFLE	COPY_MAP_DATA	233050000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5502432
+SHUFFLE	COMPRESS_BYTE_COUNT	1689467
+SHUFFLE	COPY_MAP_DATA	189815000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5504029
+SHUFFLE	COMPRESS_BYTE_COUNT	1710426
+SHUFFLE	COPY_MAP_DATA	98657000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5603378
+SHUFFLE	COMPRESS_BYTE_COUNT	1719123
+SHUFFLE	COPY_MAP_DATA	642641000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5583491
+SHUFFLE	COMPRESS_BYTE_COUNT	1713154
+SHUFFLE	COPY_MAP_DATA	91762000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5527963
+SHUFFLE	COMPRESS_BYTE_COUNT	1697048
+SHUFFLE	COPY_MAP_DATA	204280000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5549842
+SHUFFLE	COMPRESS_BYTE_COUNT	1703134
+SHUFFLE	COPY_MAP_DATA	777057000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5505266
+SHUFFLE	COMPRESS_BYTE_COUNT	1690488
+SHUFFLE	COPY_MAP_DATA	332043000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5557347
+SHUFFLE	COMPRESS_BYTE_COUNT	1707850
+SHUFFLE	COPY_MAP_DATA	82745000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5472327
+SHUFFLE	COMPRESS_BYTE_COUNT	1700228
+SHUFFLE	COPY_MAP_DATA	101612000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5554514
+SHUFFLE	COMPRESS_BYTE_COUNT	1704495
+SHUFFLE	COPY_MAP_DATA	89647000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5608641
+SHUFFLE	COMPRESS_BYTE_COUNT	1721088
+SHUFFLE	COPY_MAP_DATA	140401000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5500798
+SHUFFLE	COMPRESS_BYTE_COUNT	1709352
+SHUFFLE	COPY_MAP_DATA	83916000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5540573
+SHUFFLE	COMPRESS_BYTE_COUNT	1700519
+SHUFFLE	COPY_MAP_DATA	88054000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5497849
+SHUFFLE	COMPRESS_BYTE_COUNT	1708689
+SHUFFLE	COPY_MAP_DATA	627665000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5506880
+SHUFFLE	COMPRESS_BYTE_COUNT	1710556
+SHUFFLE	COPY_MAP_DATA	109042000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5578751
+SHUFFLE	COMPRESS_BYTE_COUNT	1711869
+SHUFFLE	COPY_MAP_DATA	90812000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5591504
+SHUFFLE	COMPRESS_BYTE_COUNT	1737665
+SHUFFLE	COPY_MAP_DATA	100919000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5534641
+SHUFFLE	COMPRESS_BYTE_COUNT	1699185
+SHUFFLE	COPY_MAP_DATA	4666274000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5614823
+SHUFFLE	COMPRESS_BYTE_COUNT	1722991
+SHUFFLE	COPY_MAP_DATA	698866000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5546608
+SHUFFLE	COMPRESS_BYTE_COUNT	1703064
+SHUFFLE	COPY_MAP_DATA	130044000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5455797
+SHUFFLE	COMPRESS_BYTE_COUNT	1695798
+SHUFFLE	COPY_MAP_DATA	84573000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5486900
+SHUFFLE	COMPRESS_BYTE_COUNT	1704477
+SHUFFLE	COPY_MAP_DATA	1412879000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5546316
+SHUFFLE	COMPRESS_BYTE_COUNT	1701589
+SHUFFLE	COPY_MAP_DATA	98327000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5510425
+SHUFFLE	COMPRESS_BYTE_COUNT	1713180
+SHUFFLE	COPY_MAP_DATA	1848939000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5638913
+SHUFFLE	COMPRESS_BYTE_COUNT	1730285
+SHUFFLE	COPY_MAP_DATA	1127384000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5546271
+SHUFFLE	COMPRESS_BYTE_COUNT	1723718
+SHUFFLE	COPY_MAP_DATA	106588000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5491324
+SHUFFLE	COMPRESS_BYTE_COUNT	1707237
+SHUFFLE	COPY_MAP_DATA	87429000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5507495
+SHUFFLE	COMPRESS_BYTE_COUNT	1712664
+SHUFFLE	COPY_MAP_DATA	259889000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5568917
+SHUFFLE	COMPRESS_BYTE_COUNT	1730713
+SHUFFLE	COPY_MAP_DATA	846337000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5471884
+SHUFFLE	COMPRESS_BYTE_COUNT	1701304
+SHUFFLE	COPY_MAP_DATA	114123000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5521015
+SHUFFLE	COMPRESS_BYTE_COUNT	1715588
+SHUFFLE	COPY_MAP_DATA	110797000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5476305
+SHUFFLE	COMPRESS_BYTE_COUNT	1704163
+SHUFFLE	COPY_MAP_DATA	2341894000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5510049
+SHUFFLE	COMPRESS_BYTE_COUNT	1712161
+SHUFFLE	COPY_MAP_DATA	2395906000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5616776
+SHUFFLE	COMPRESS_BYTE_COUNT	1723876
+SHUFFLE	COPY_MAP_DATA	90354000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5537979
+SHUFFLE	COMPRESS_BYTE_COUNT	1720837
+SHUFFLE	COPY_MAP_DATA	3624587000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5555730
+SHUFFLE	COMPRESS_BYTE_COUNT	1725405
+SHUFFLE	COPY_MAP_DATA	1166393000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5564701
+SHUFFLE	COMPRESS_BYTE_COUNT	1733568
+SHUFFLE	COPY_MAP_DATA	118891000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5493651
+SHUFFLE	COMPRESS_BYTE_COUNT	1706919
+SHUFFLE	COPY_MAP_DATA	3560488000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5553152
+SHUFFLE	COMPRESS_BYTE_COUNT	1727035
+SHUFFLE	COPY_MAP_DATA	1358674000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5508315
+SHUFFLE	COMPRESS_BYTE_COUNT	1711246
+SHUFFLE	COPY_MAP_DATA	2998903000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5490351
+SHUFFLE	COMPRESS_BYTE_COUNT	1707473
+SHUFFLE	COPY_MAP_DATA	122404000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5553986
+SHUFFLE	COMPRESS_BYTE_COUNT	1727959
+SHUFFLE	COPY_MAP_DATA	82147000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5520230
+SHUFFLE	COMPRESS_BYTE_COUNT	1715843
+SHUFFLE	COPY_MAP_DATA	140342000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5451465
+SHUFFLE	COMPRESS_BYTE_COUNT	1695130
+SHUFFLE	COPY_MAP_DATA	91717000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5538319
+SHUFFLE	COMPRESS_BYTE_COUNT	1721808
+SHUFFLE	COPY_MAP_DATA	82526000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5528007
+SHUFFLE	COMPRESS_BYTE_COUNT	1717979
+SHUFFLE	COPY_MAP_DATA	1662414000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5538240
+SHUFFLE	COMPRESS_BYTE_COUNT	1726069
+SHUFFLE	COPY_MAP_DATA	99969000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5500648
+SHUFFLE	COMPRESS_BYTE_COUNT	1710204
+SHUFFLE	COPY_MAP_DATA	760509000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5482530
+SHUFFLE	COMPRESS_BYTE_COUNT	1704849
+SHUFFLE	COPY_MAP_DATA	95239000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5559949
+SHUFFLE	COMPRESS_BYTE_COUNT	1727618
+SHUFFLE	COPY_MAP_DATA	107455000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5542450
+SHUFFLE	COMPRESS_BYTE_COUNT	1728183
+SHUFFLE	COPY_MAP_DATA	287628000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5556243
+SHUFFLE	COMPRESS_BYTE_COUNT	1731787
+SHUFFLE	COPY_MAP_DATA	109310000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5523891
+SHUFFLE	COMPRESS_BYTE_COUNT	1716993
+SHUFFLE	COPY_MAP_DATA	578136000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5558078
+SHUFFLE	COMPRESS_BYTE_COUNT	1731638
+SHUFFLE	COPY_MAP_DATA	96042000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5514907
+SHUFFLE	COMPRESS_BYTE_COUNT	1735618
+SHUFFLE	COPY_MAP_DATA	109496000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5458073
+SHUFFLE	COMPRESS_BYTE_COUNT	1697552
+SHUFFLE	COPY_MAP_DATA	910089000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5532512
+SHUFFLE	COMPRESS_BYTE_COUNT	1720308
+SHUFFLE	COPY_MAP_DATA	163868000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5531625
+SHUFFLE	COMPRESS_BYTE_COUNT	1723543
+SHUFFLE	COPY_MAP_DATA	93757000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5559751
+SHUFFLE	COMPRESS_BYTE_COUNT	1729830
+SHUFFLE	COPY_MAP_DATA	123542000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5511198
+SHUFFLE	COMPRESS_BYTE_COUNT	1747203
+SHUFFLE	COPY_MAP_DATA	293918000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5579822
+SHUFFLE	COMPRESS_BYTE_COUNT	1722567
+SHUFFLE	COPY_MAP_DATA	88785000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5596841
+SHUFFLE	COMPRESS_BYTE_COUNT	1727519
+SHUFFLE	COPY_MAP_DATA	86842000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4712815
+SHUFFLE	COMPRESS_BYTE_COUNT	1446518
+SHUFFLE	COPY_MAP_DATA	125947000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4667440
+SHUFFLE	COMPRESS_BYTE_COUNT	1432744
+SHUFFLE	COPY_MAP_DATA	94271000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4442703
+SHUFFLE	COMPRESS_BYTE_COUNT	1381072
+SHUFFLE	COPY_MAP_DATA	380743000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5588528
+SHUFFLE	COMPRESS_BYTE_COUNT	1724238
+SHUFFLE	COPY_MAP_DATA	87215000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5587876
+SHUFFLE	COMPRESS_BYTE_COUNT	1723822
+SHUFFLE	COPY_MAP_DATA	959638000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5583726
+SHUFFLE	COMPRESS_BYTE_COUNT	1723659
+SHUFFLE	COPY_MAP_DATA	108242000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4787350
+SHUFFLE	COMPRESS_BYTE_COUNT	1468548
+SHUFFLE	COPY_MAP_DATA	75457000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5613788
+SHUFFLE	COMPRESS_BYTE_COUNT	1731772
+SHUFFLE	COPY_MAP_DATA	172199000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4438207
+SHUFFLE	COMPRESS_BYTE_COUNT	1379131
+SHUFFLE	COPY_MAP_DATA	294331000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5605908
+SHUFFLE	COMPRESS_BYTE_COUNT	1729797
+SHUFFLE	COPY_MAP_DATA	89575000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5568103
+SHUFFLE	COMPRESS_BYTE_COUNT	1734479
+SHUFFLE	COPY_MAP_DATA	88963000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4746137
+SHUFFLE	COMPRESS_BYTE_COUNT	1456734
+SHUFFLE	COPY_MAP_DATA	229474000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5592974
+SHUFFLE	COMPRESS_BYTE_COUNT	1726580
+SHUFFLE	COPY_MAP_DATA	86945000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5595139
+SHUFFLE	COMPRESS_BYTE_COUNT	1727783
+SHUFFLE	COPY_MAP_DATA	793883000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5591002
+SHUFFLE	COMPRESS_BYTE_COUNT	1725441
+SHUFFLE	COPY_MAP_DATA	86686000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4740719
+SHUFFLE	COMPRESS_BYTE_COUNT	1455566
+SHUFFLE	COPY_MAP_DATA	102561000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5601217
+SHUFFLE	COMPRESS_BYTE_COUNT	1728820
+SHUFFLE	COPY_MAP_DATA	1060857000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4699258
+SHUFFLE	COMPRESS_BYTE_COUNT	1442694
+SHUFFLE	COPY_MAP_DATA	73503000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5607282
+SHUFFLE	COMPRESS_BYTE_COUNT	1731244
+SHUFFLE	COPY_MAP_DATA	87388000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4743964
+SHUFFLE	COMPRESS_BYTE_COUNT	1455937
+SHUFFLE	COPY_MAP_DATA	184594000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5553250
+SHUFFLE	COMPRESS_BYTE_COUNT	1730083
+SHUFFLE	COPY_MAP_DATA	489094000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5543309
+SHUFFLE	COMPRESS_BYTE_COUNT	1727425
+SHUFFLE	COPY_MAP_DATA	3628283000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5548653
+SHUFFLE	COMPRESS_BYTE_COUNT	1728219
+SHUFFLE	COPY_MAP_DATA	1670589000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1741104
+SHUFFLE	COMPRESS_BYTE_COUNT	538075
+SHUFFLE	COPY_MAP_DATA	28780000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5561321
+SHUFFLE	COMPRESS_BYTE_COUNT	1732520
+SHUFFLE	COPY_MAP_DATA	87721000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4742856
+SHUFFLE	COMPRESS_BYTE_COUNT	1454567
+SHUFFLE	COPY_MAP_DATA	74595000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4652786
+SHUFFLE	COMPRESS_BYTE_COUNT	1427873
+SHUFFLE	COPY_MAP_DATA	94884000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5555230
+SHUFFLE	COMPRESS_BYTE_COUNT	1730796
+SHUFFLE	COPY_MAP_DATA	205471000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5549767
+SHUFFLE	COMPRESS_BYTE_COUNT	1728444
+SHUFFLE	COPY_MAP_DATA	201113000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4480852
+SHUFFLE	COMPRESS_BYTE_COUNT	1393728
+SHUFFLE	COPY_MAP_DATA	194720000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4415068
+SHUFFLE	COMPRESS_BYTE_COUNT	1372415
+SHUFFLE	COPY_MAP_DATA	69759000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4443836
+SHUFFLE	COMPRESS_BYTE_COUNT	1382692
+SHUFFLE	COPY_MAP_DATA	70011000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4298295
+SHUFFLE	COMPRESS_BYTE_COUNT	1336201
+SHUFFLE	COPY_MAP_DATA	85040000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5598581
+SHUFFLE	COMPRESS_BYTE_COUNT	1728775
+SHUFFLE	COPY_MAP_DATA	111339000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4407834
+SHUFFLE	COMPRESS_BYTE_COUNT	1369777
+SHUFFLE	COPY_MAP_DATA	675039000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1739219
+SHUFFLE	COMPRESS_BYTE_COUNT	538474
+SHUFFLE	COPY_MAP_DATA	14909301000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1733161
+SHUFFLE	COMPRESS_BYTE_COUNT	535416
+SHUFFLE	COPY_MAP_DATA	116525000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1732467
+SHUFFLE	COMPRESS_BYTE_COUNT	535267
+SHUFFLE	COPY_MAP_DATA	181539000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1661094
+SHUFFLE	COMPRESS_BYTE_COUNT	518456
+SHUFFLE	COPY_MAP_DATA	1400201000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1740591
+SHUFFLE	COMPRESS_BYTE_COUNT	538113
+SHUFFLE	COPY_MAP_DATA	40096000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1742715
+SHUFFLE	COMPRESS_BYTE_COUNT	539321
+SHUFFLE	COPY_MAP_DATA	29790000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4469234
+SHUFFLE	COMPRESS_BYTE_COUNT	1389334
+SHUFFLE	COPY_MAP_DATA	79055000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1734380
+SHUFFLE	COMPRESS_BYTE_COUNT	536268
+SHUFFLE	COPY_MAP_DATA	31110000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1732217
+SHUFFLE	COMPRESS_BYTE_COUNT	536001
+SHUFFLE	COPY_MAP_DATA	31368000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4796273
+SHUFFLE	COMPRESS_BYTE_COUNT	1472018
+SHUFFLE	COPY_MAP_DATA	123357000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5565200
+SHUFFLE	COMPRESS_BYTE_COUNT	1734031
+SHUFFLE	COPY_MAP_DATA	92854000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1742755
+SHUFFLE	COMPRESS_BYTE_COUNT	538277
+SHUFFLE	COPY_MAP_DATA	102691000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1667297
+SHUFFLE	COMPRESS_BYTE_COUNT	520106
+SHUFFLE	COPY_MAP_DATA	227879000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4426253
+SHUFFLE	COMPRESS_BYTE_COUNT	1375530
+SHUFFLE	COPY_MAP_DATA	186410000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1668403
+SHUFFLE	COMPRESS_BYTE_COUNT	520967
+SHUFFLE	COPY_MAP_DATA	38421000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1674224
+SHUFFLE	COMPRESS_BYTE_COUNT	521756
+SHUFFLE	COPY_MAP_DATA	201602000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1666433
+SHUFFLE	COMPRESS_BYTE_COUNT	519969
+SHUFFLE	COPY_MAP_DATA	225364000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4733979
+SHUFFLE	COMPRESS_BYTE_COUNT	1453244
+SHUFFLE	COPY_MAP_DATA	75642000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4447674
+SHUFFLE	COMPRESS_BYTE_COUNT	1382549
+SHUFFLE	COPY_MAP_DATA	82182000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4562439
+SHUFFLE	COMPRESS_BYTE_COUNT	1401077
+SHUFFLE	COPY_MAP_DATA	67432000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4652136
+SHUFFLE	COMPRESS_BYTE_COUNT	1428701
+SHUFFLE	COPY_MAP_DATA	772323000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1663193
+SHUFFLE	COMPRESS_BYTE_COUNT	519461
+SHUFFLE	COPY_MAP_DATA	302705000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4401838
+SHUFFLE	COMPRESS_BYTE_COUNT	1367571
+SHUFFLE	COPY_MAP_DATA	84743000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4469039
+SHUFFLE	COMPRESS_BYTE_COUNT	1389206
+SHUFFLE	COPY_MAP_DATA	70846000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4699042
+SHUFFLE	COMPRESS_BYTE_COUNT	1442539
+SHUFFLE	COPY_MAP_DATA	154470000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4441019
+SHUFFLE	COMPRESS_BYTE_COUNT	1381160
+SHUFFLE	COPY_MAP_DATA	78137000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1670262
+SHUFFLE	COMPRESS_BYTE_COUNT	520610
+SHUFFLE	COPY_MAP_DATA	422715000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4172306
+SHUFFLE	COMPRESS_BYTE_COUNT	1313370
+SHUFFLE	COPY_MAP_DATA	1770036000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1739701
+SHUFFLE	COMPRESS_BYTE_COUNT	538410
+SHUFFLE	COPY_MAP_DATA	51243000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4439518
+SHUFFLE	COMPRESS_BYTE_COUNT	1379829
+SHUFFLE	COPY_MAP_DATA	122807000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1655722
+SHUFFLE	COMPRESS_BYTE_COUNT	516676
+SHUFFLE	COPY_MAP_DATA	38582000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1742381
+SHUFFLE	COMPRESS_BYTE_COUNT	538309
+SHUFFLE	COPY_MAP_DATA	548519000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1654991
+SHUFFLE	COMPRESS_BYTE_COUNT	516592
+SHUFFLE	COPY_MAP_DATA	1298554000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1739279
+SHUFFLE	COMPRESS_BYTE_COUNT	537625
+SHUFFLE	COPY_MAP_DATA	182379000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1666344
+SHUFFLE	COMPRESS_BYTE_COUNT	519997
+SHUFFLE	COPY_MAP_DATA	26942000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1730495
+SHUFFLE	COMPRESS_BYTE_COUNT	534964
+SHUFFLE	COPY_MAP_DATA	72755000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1658049
+SHUFFLE	COMPRESS_BYTE_COUNT	517867
+SHUFFLE	COPY_MAP_DATA	27508000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1583796
+SHUFFLE	COMPRESS_BYTE_COUNT	500645
+SHUFFLE	COPY_MAP_DATA	136450000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1697976
+SHUFFLE	COMPRESS_BYTE_COUNT	524966
+SHUFFLE	COPY_MAP_DATA	35797000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1659656
+SHUFFLE	COMPRESS_BYTE_COUNT	518111
+SHUFFLE	COPY_MAP_DATA	49590000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1627978
+SHUFFLE	COMPRESS_BYTE_COUNT	507982
+SHUFFLE	COPY_MAP_DATA	37203000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1660151
+SHUFFLE	COMPRESS_BYTE_COUNT	518363
+SHUFFLE	COPY_MAP_DATA	47092000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4460476
+SHUFFLE	COMPRESS_BYTE_COUNT	1386785
+SHUFFLE	COPY_MAP_DATA	212137000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1670874
+SHUFFLE	COMPRESS_BYTE_COUNT	521815
+SHUFFLE	COPY_MAP_DATA	27940000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	443693737000
+MERGE	READ_WRITE	432627606000
+MERGE	READ_WRITE_COUNT	8
+MERGE	COMBINE	0
+MERGE	WRITE	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	9685007000
+SORT	READ_WRITE	9606677000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	231237120
+REDUCE	SETUP	329000
+REDUCE	SETUP_MEM	231237120
+REDUCE	CLEANUP	37000
+REDUCE	CLEANUP_MEM	175632168
+REDUCE	TOTAL_RUN	432335247102
+REDUCE	READ	7666163000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	415847739102
+REDUCE	WRITE	236434469102
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	55912651
+REDUCE	VALUE_BYTE_COUNT	1648610251
+REDUCE	REDUCE_MEM	175632168
+REDUCE	WRITE	204491000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	1110293634102
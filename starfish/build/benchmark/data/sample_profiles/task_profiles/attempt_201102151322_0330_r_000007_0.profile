@@ -0,0 +1,989 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5536724
+SHUFFLE	COMPRESS_BYTE_COUNT	1720445
+SHUFFLE	COPY_MAP_DATA	3428628000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5480961
+SHUFFLE	COMPRESS_BYTE_COUNT	1702984
+SHUFFLE	COPY_MAP_DATA	246726000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5510030
+SHUFFLE	COMPRESS_BYTE_COUNT	1712355
+SHUFFLE	COPY_MAP_DATA	558200000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5506662
+SHUFFLE	COMPRESS_BYTE_COUNT	1712176
+SHUFFLE	COPY_MAP_DATA	174030000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5558884
+SHUFFLE	COMPRESS_BYTE_COUNT	1728331
+SHUFFLE	COPY_MAP_DATA	128413000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5528927
+SHUFFLE	COMPRESS_BYTE_COUNT	1718760
+SHUFFLE	COPY_MAP_DATA	238702000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5472625
+SHUFFLE	COMPRESS_BYTE_COUNT	1701277
+SHUFFLE	COPY_MAP_DATA	125155000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5485245
+SHUFFLE	COMPRESS_BYTE_COUNT	1705645
+SHUFFLE	COPY_MAP_DATA	171201000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5542968
+SHUFFLE	COMPRESS_BYTE_COUNT	1722364
+SHUFFLE	COPY_MAP_DATA	474105000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5437235
+SHUFFLE	COMPRESS_BYTE_COUNT	1712773
+SHUFFLE	COPY_MAP_DATA	88039000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5493777
+SHUFFLE	COMPRESS_BYTE_COUNT	1730135
+SHUFFLE	COPY_MAP_DATA	150934000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5490622
+SHUFFLE	COMPRESS_BYTE_COUNT	1707336
+SHUFFLE	COPY_MAP_DATA	153184000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5543508
+SHUFFLE	COMPRESS_BYTE_COUNT	1722218
+SHUFFLE	COPY_MAP_DATA	101045000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5561444
+SHUFFLE	COMPRESS_BYTE_COUNT	1706822
+SHUFFLE	COPY_MAP_DATA	140518000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5471848
+SHUFFLE	COMPRESS_BYTE_COUNT	1700682
+SHUFFLE	COPY_MAP_DATA	87598000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5525474
+SHUFFLE	COMPRESS_BYTE_COUNT	1716775
+SHUFFLE	COPY_MAP_DATA	130566000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5494054
+SHUFFLE	COMPRESS_BYTE_COUNT	1707682
+SHUFFLE	COPY_MAP_DATA	96186000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5520287
+SHUFFLE	COMPRESS_BYTE_COUNT	1715074
+SHUFFLE	COPY_MAP_DATA	119297000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5475378
+SHUFFLE	COMPRESS_BYTE_COUNT	1725224
+SHUFFLE	COPY_MAP_DATA	167738000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5565944
+SHUFFLE	COMPRESS_BYTE_COUNT	1729532
+SHUFFLE	COPY_MAP_DATA	88100000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5545238
+SHUFFLE	COMPRESS_BYTE_COUNT	1745173
+SHUFFLE	COPY_MAP_DATA	101544000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5541828
+SHUFFLE	COMPRESS_BYTE_COUNT	1722240
+SHUFFLE	COPY_MAP_DATA	122555000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5539372
+SHUFFLE	COMPRESS_BYTE_COUNT	1721746
+SHUFFLE	COPY_MAP_DATA	242486000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5580036
+SHUFFLE	COMPRESS_BYTE_COUNT	1733739
+SHUFFLE	COPY_MAP_DATA	133317000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5560136
+SHUFFLE	COMPRESS_BYTE_COUNT	1727071
+SHUFFLE	COPY_MAP_DATA	141218000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5507787
+SHUFFLE	COMPRESS_BYTE_COUNT	1712160
+SHUFFLE	COPY_MAP_DATA	1048336000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5519430
+SHUFFLE	COMPRESS_BYTE_COUNT	1715314
+SHUFFLE	COPY_MAP_DATA	103005000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5554626
+SHUFFLE	COMPRESS_BYTE_COUNT	1725962
+SHUFFLE	COPY_MAP_DATA	517471000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5541829
+SHUFFLE	COMPRESS_BYTE_COUNT	1721057
+SHUFFLE	COPY_MAP_DATA	99120000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5444538
+SHUFFLE	COMPRESS_BYTE_COUNT	1740722
+SHUFFLE	COPY_MAP_DATA	1835730000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5474889
+SHUFFLE	COMPRESS_BYTE_COUNT	1700925
+SHUFFLE	COPY_MAP_DATA	154991000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5507377
+SHUFFLE	COMPRESS_BYTE_COUNT	1711107
+SHUFFLE	COPY_MAP_DATA	87438000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5474226
+SHUFFLE	COMPRESS_BYTE_COUNT	1680150
+SHUFFLE	COPY_MAP_DATA	105022000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5492648
+SHUFFLE	COMPRESS_BYTE_COUNT	1686448
+SHUFFLE	COPY_MAP_DATA	252282000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5493534
+SHUFFLE	COMPRESS_BYTE_COUNT	1707720
+SHUFFLE	COPY_MAP_DATA	99143000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5477367
+SHUFFLE	COMPRESS_BYTE_COUNT	1702286
+SHUFFLE	COPY_MAP_DATA	105894000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5540723
+SHUFFLE	COMPRESS_BYTE_COUNT	1721956
+SHUFFLE	COPY_MAP_DATA	2585482000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5570404
+SHUFFLE	COMPRESS_BYTE_COUNT	1730243
+SHUFFLE	COPY_MAP_DATA	84262000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5537750
+SHUFFLE	COMPRESS_BYTE_COUNT	1700341
+SHUFFLE	COPY_MAP_DATA	126438000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5471228
+SHUFFLE	COMPRESS_BYTE_COUNT	1700023
+SHUFFLE	COPY_MAP_DATA	290572000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5604811
+SHUFFLE	COMPRESS_BYTE_COUNT	1721127
+SHUFFLE	COPY_MAP_DATA	859927000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5531496
+SHUFFLE	COMPRESS_BYTE_COUNT	1719321
+SHUFFLE	COPY_MAP_DATA	111789000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5517142
+SHUFFLE	COMPRESS_BYTE_COUNT	1714771
+SHUFFLE	COPY_MAP_DATA	94340000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5512300
+SHUFFLE	COMPRESS_BYTE_COUNT	1734917
+SHUFFLE	COPY_MAP_DATA	98660000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5537525
+SHUFFLE	COMPRESS_BYTE_COUNT	1720537
+SHUFFLE	COPY_MAP_DATA	97442000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5533843
+SHUFFLE	COMPRESS_BYTE_COUNT	1720446
+SHUFFLE	COPY_MAP_DATA	995813000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5557199
+SHUFFLE	COMPRESS_BYTE_COUNT	1707259
+SHUFFLE	COPY_MAP_DATA	259214982
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5557498
+SHUFFLE	COMPRESS_BYTE_COUNT	1706985
+SHUFFLE	COPY_MAP_DATA	2135976000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5507074
+SHUFFLE	COMPRESS_BYTE_COUNT	1711260
+SHUFFLE	COPY_MAP_DATA	8945059000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5545659
+SHUFFLE	COMPRESS_BYTE_COUNT	1703070
+SHUFFLE	COPY_MAP_DATA	151534000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5585430
+SHUFFLE	COMPRESS_BYTE_COUNT	1714293
+SHUFFLE	COPY_MAP_DATA	90616000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5510969
+SHUFFLE	COMPRESS_BYTE_COUNT	1712938
+SHUFFLE	COPY_MAP_DATA	6427184000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5551637
+SHUFFLE	COMPRESS_BYTE_COUNT	1703546
+SHUFFLE	COPY_MAP_DATA	162330000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5516921
+SHUFFLE	COMPRESS_BYTE_COUNT	1694191
+SHUFFLE	COPY_MAP_DATA	126202000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5505154
+SHUFFLE	COMPRESS_BYTE_COUNT	1708170
+SHUFFLE	COPY_MAP_DATA	87173000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5479324
+SHUFFLE	COMPRESS_BYTE_COUNT	1702661
+SHUFFLE	COPY_MAP_DATA	357509000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5534299
+SHUFFLE	COMPRESS_BYTE_COUNT	1720653
+SHUFFLE	COPY_MAP_DATA	1295383000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5566703
+SHUFFLE	COMPRESS_BYTE_COUNT	1708241
+SHUFFLE	COPY_MAP_DATA	111285000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5554561
+SHUFFLE	COMPRESS_BYTE_COUNT	1704895
+SHUFFLE	COPY_MAP_DATA	87401000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5571980
+SHUFFLE	COMPRESS_BYTE_COUNT	1709979
+SHUFFLE	COPY_MAP_DATA	86835000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5572392
+SHUFFLE	COMPRESS_BYTE_COUNT	1709973
+SHUFFLE	COPY_MAP_DATA	86176000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5580030
+SHUFFLE	COMPRESS_BYTE_COUNT	1714527
+SHUFFLE	COPY_MAP_DATA	279570000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5537963
+SHUFFLE	COMPRESS_BYTE_COUNT	1700225
+SHUFFLE	COPY_MAP_DATA	3183078000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5508031
+SHUFFLE	COMPRESS_BYTE_COUNT	1690721
+SHUFFLE	COPY_MAP_DATA	147203000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5565366
+SHUFFLE	COMPRESS_BYTE_COUNT	1708420
+SHUFFLE	COPY_MAP_DATA	3056571000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5571171
+SHUFFLE	COMPRESS_BYTE_COUNT	1710934
+SHUFFLE	COPY_MAP_DATA	84969000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5572567
+SHUFFLE	COMPRESS_BYTE_COUNT	1711179
+SHUFFLE	COPY_MAP_DATA	193835000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5478594
+SHUFFLE	COMPRESS_BYTE_COUNT	1720933
+SHUFFLE	COPY_MAP_DATA	233310000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5429136
+SHUFFLE	COMPRESS_BYTE_COUNT	1709932
+SHUFFLE	COPY_MAP_DATA	119885000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5619019
+SHUFFLE	COMPRESS_BYTE_COUNT	1724660
+SHUFFLE	COPY_MAP_DATA	260895000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5565668
+SHUFFLE	COMPRESS_BYTE_COUNT	1708901
+SHUFFLE	COPY_MAP_DATA	114263000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5552439
+SHUFFLE	COMPRESS_BYTE_COUNT	1703913
+SHUFFLE	COPY_MAP_DATA	97758000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5579638
+SHUFFLE	COMPRESS_BYTE_COUNT	1711708
+SHUFFLE	COPY_MAP_DATA	115773000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5474984
+SHUFFLE	COMPRESS_BYTE_COUNT	1681596
+SHUFFLE	COPY_MAP_DATA	83087000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5577899
+SHUFFLE	COMPRESS_BYTE_COUNT	1711992
+SHUFFLE	COPY_MAP_DATA	111205000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5543458
+SHUFFLE	COMPRESS_BYTE_COUNT	1702322
+SHUFFLE	COPY_MAP_DATA	177348000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5536701
+SHUFFLE	COMPRESS_BYTE_COUNT	1698753
+SHUFFLE	COPY_MAP_DATA	90404000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5569888
+SHUFFLE	COMPRESS_BYTE_COUNT	1708890
+SHUFFLE	COPY_MAP_DATA	177100000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5543711
+SHUFFLE	COMPRESS_BYTE_COUNT	1702613
+SHUFFLE	COPY_MAP_DATA	416942000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5586397
+SHUFFLE	COMPRESS_BYTE_COUNT	1714031
+SHUFFLE	COPY_MAP_DATA	6397003000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5545634
+SHUFFLE	COMPRESS_BYTE_COUNT	1702217
+SHUFFLE	COPY_MAP_DATA	11281733000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5565256
+SHUFFLE	COMPRESS_BYTE_COUNT	1708114
+SHUFFLE	COPY_MAP_DATA	928822000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5473387
+SHUFFLE	COMPRESS_BYTE_COUNT	1722763
+SHUFFLE	COPY_MAP_DATA	977602000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5556580
+SHUFFLE	COMPRESS_BYTE_COUNT	1705293
+SHUFFLE	COPY_MAP_DATA	87414000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5536241
+SHUFFLE	COMPRESS_BYTE_COUNT	1700102
+SHUFFLE	COPY_MAP_DATA	131170000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5610403
+SHUFFLE	COMPRESS_BYTE_COUNT	1721432
+SHUFFLE	COPY_MAP_DATA	157444000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5513997
+SHUFFLE	COMPRESS_BYTE_COUNT	1691953
+SHUFFLE	COPY_MAP_DATA	1115373000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5560481
+SHUFFLE	COMPRESS_BYTE_COUNT	1707366
+SHUFFLE	COPY_MAP_DATA	81721000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5567965
+SHUFFLE	COMPRESS_BYTE_COUNT	1709603
+SHUFFLE	COPY_MAP_DATA	926056000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5554702
+SHUFFLE	COMPRESS_BYTE_COUNT	1704649
+SHUFFLE	COPY_MAP_DATA	377239000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5608461
+SHUFFLE	COMPRESS_BYTE_COUNT	1720377
+SHUFFLE	COPY_MAP_DATA	83860000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5534868
+SHUFFLE	COMPRESS_BYTE_COUNT	1699829
+SHUFFLE	COPY_MAP_DATA	338316000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5528786
+SHUFFLE	COMPRESS_BYTE_COUNT	1697011
+SHUFFLE	COPY_MAP_DATA	534179000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5555344
+SHUFFLE	COMPRESS_BYTE_COUNT	1705746
+SHUFFLE	COPY_MAP_DATA	696140000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5573622
+SHUFFLE	COMPRESS_BYTE_COUNT	1710400
+SHUFFLE	COPY_MAP_DATA	92261000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5512127
+SHUFFLE	COMPRESS_BYTE_COUNT	1691931
+SHUFFLE	COPY_MAP_DATA	81966000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5507409
+SHUFFLE	COMPRESS_BYTE_COUNT	1710690
+SHUFFLE	COPY_MAP_DATA	125863000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5525289
+SHUFFLE	COMPRESS_BYTE_COUNT	1695966
+SHUFFLE	COPY_MAP_DATA	213235000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5608275
+SHUFFLE	COMPRESS_BYTE_COUNT	1721434
+SHUFFLE	COPY_MAP_DATA	102171000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5490390
+SHUFFLE	COMPRESS_BYTE_COUNT	1707016
+SHUFFLE	COPY_MAP_DATA	212438000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5552470
+SHUFFLE	COMPRESS_BYTE_COUNT	1705134
+SHUFFLE	COPY_MAP_DATA	95021000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5572610
+SHUFFLE	COMPRESS_BYTE_COUNT	1710443
+SHUFFLE	COPY_MAP_DATA	109266000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5567144
+SHUFFLE	COMPRESS_BYTE_COUNT	1709245
+SHUFFLE	COPY_MAP_DATA	93661000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5524445
+SHUFFLE	COMPRESS_BYTE_COUNT	1695041
+SHUFFLE	COPY_MAP_DATA	292584000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5591178
+SHUFFLE	COMPRESS_BYTE_COUNT	1715754
+SHUFFLE	COPY_MAP_DATA	100957000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5548724
+SHUFFLE	COMPRESS_BYTE_COUNT	1703666
+SHUFFLE	COPY_MAP_DATA	8218572000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5529468
+SHUFFLE	COMPRESS_BYTE_COUNT	1697319
+SHUFFLE	COPY_MAP_DATA	382427000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5499250
+SHUFFLE	COMPRESS_BYTE_COUNT	1709436
+SHUFFLE	COPY_MAP_DATA	546952000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5587413
+SHUFFLE	COMPRESS_BYTE_COUNT	1714404
+SHUFFLE	COPY_MAP_DATA	163907000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5536151
+SHUFFLE	COMPRESS_BYTE_COUNT	1698495
+SHUFFLE	COPY_MAP_DATA	269012000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5529055
+SHUFFLE	COMPRESS_BYTE_COUNT	1697609
+SHUFFLE	COPY_MAP_DATA	113404000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5502298
+SHUFFLE	COMPRESS_BYTE_COUNT	1709538
+SHUFFLE	COPY_MAP_DATA	219827000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5505692
+SHUFFLE	COMPRESS_BYTE_COUNT	1711694
+SHUFFLE	COPY_MAP_DATA	150209000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5521547
+SHUFFLE	COMPRESS_BYTE_COUNT	1715797
+SHUFFLE	COPY_MAP_DATA	3251976000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5517591
+SHUFFLE	COMPRESS_BYTE_COUNT	1694330
+SHUFFLE	COPY_MAP_DATA	1046446000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5581020
+SHUFFLE	COMPRESS_BYTE_COUNT	1711895
+SHUFFLE	COPY_MAP_DATA	106750000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5564453
+SHUFFLE	COMPRESS_BYTE_COUNT	1728437
+SHUFFLE	COPY_MAP_DATA	961666000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5514609
+SHUFFLE	COMPRESS_BYTE_COUNT	1692745
+SHUFFLE	COPY_MAP_DATA	109334000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5563370
+SHUFFLE	COMPRESS_BYTE_COUNT	1708231
+SHUFFLE	COPY_MAP_DATA	166077000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5527650
+SHUFFLE	COMPRESS_BYTE_COUNT	1718281
+SHUFFLE	COPY_MAP_DATA	355267000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5525101
+SHUFFLE	COMPRESS_BYTE_COUNT	1716914
+SHUFFLE	COPY_MAP_DATA	297294000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5478950
+SHUFFLE	COMPRESS_BYTE_COUNT	1704011
+SHUFFLE	COPY_MAP_DATA	548261000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5590023
+SHUFFLE	COMPRESS_BYTE_COUNT	1716180
+SHUFFLE	COPY_MAP_DATA	89830000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5555255
+SHUFFLE	COMPRESS_BYTE_COUNT	1705700
+SHUFFLE	COPY_MAP_DATA	88105000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5588209
+SHUFFLE	COMPRESS_BYTE_COUNT	1736438
+SHUFFLE	COPY_MAP_DATA	139385000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5571684
+SHUFFLE	COMPRESS_BYTE_COUNT	1730921
+SHUFFLE	COPY_MAP_DATA	3379411000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5570431
+SHUFFLE	COMPRESS_BYTE_COUNT	1730363
+SHUFFLE	COPY_MAP_DATA	156800000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5534056
+SHUFFLE	COMPRESS_BYTE_COUNT	1719907
+SHUFFLE	COPY_MAP_DATA	87685000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5508773
+SHUFFLE	COMPRESS_BYTE_COUNT	1712125
+SHUFFLE	COPY_MAP_DATA	353102000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5578043
+SHUFFLE	COMPRESS_BYTE_COUNT	1732369
+SHUFFLE	COPY_MAP_DATA	87344000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5577305
+SHUFFLE	COMPRESS_BYTE_COUNT	1710411
+SHUFFLE	COPY_MAP_DATA	1219063000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5549098
+SHUFFLE	COMPRESS_BYTE_COUNT	1724136
+SHUFFLE	COPY_MAP_DATA	86703000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5516144
+SHUFFLE	COMPRESS_BYTE_COUNT	1715236
+SHUFFLE	COPY_MAP_DATA	136195000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5553164
+SHUFFLE	COMPRESS_BYTE_COUNT	1725931
+SHUFFLE	COPY_MAP_DATA	850039000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5540899
+SHUFFLE	COMPRESS_BYTE_COUNT	1722125
+SHUFFLE	COPY_MAP_DATA	97331000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5462089
+SHUFFLE	COMPRESS_BYTE_COUNT	1697138
+SHUFFLE	COPY_MAP_DATA	81521000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5500548
+SHUFFLE	COMPRESS_BYTE_COUNT	1710433
+SHUFFLE	COPY_MAP_DATA	81764000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5562630
+SHUFFLE	COMPRESS_BYTE_COUNT	1727467
+SHUFFLE	COPY_MAP_DATA	83010000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5464122
+SHUFFLE	COMPRESS_BYTE_COUNT	1699351
+SHUFFLE	COPY_MAP_DATA	118823000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5564207
+SHUFFLE	COMPRESS_BYTE_COUNT	1732904
+SHUFFLE	COPY_MAP_DATA	146763000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5522191
+SHUFFLE	COMPRESS_BYTE_COUNT	1716644
+SHUFFLE	COPY_MAP_DATA	86191000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5495923
+SHUFFLE	COMPRESS_BYTE_COUNT	1708179
+SHUFFLE	COPY_MAP_DATA	83353000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5468648
+SHUFFLE	COMPRESS_BYTE_COUNT	1699040
+SHUFFLE	COPY_MAP_DATA	258242000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5543852
+SHUFFLE	COMPRESS_BYTE_COUNT	1726003
+SHUFFLE	COPY_MAP_DATA	83132000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5524671
+SHUFFLE	COMPRESS_BYTE_COUNT	1717199
+SHUFFLE	COPY_MAP_DATA	93983000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5565358
+SHUFFLE	COMPRESS_BYTE_COUNT	1728831
+SHUFFLE	COPY_MAP_DATA	95613000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5600589
+SHUFFLE	COMPRESS_BYTE_COUNT	1740834
+SHUFFLE	COPY_MAP_DATA	119018000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5512107
+SHUFFLE	COMPRESS_BYTE_COUNT	1712212
+SHUFFLE	COPY_MAP_DATA	388259000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5515913
+SHUFFLE	COMPRESS_BYTE_COUNT	1714659
+SHUFFLE	COPY_MAP_DATA	96918000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5560033
+SHUFFLE	COMPRESS_BYTE_COUNT	1732332
+SHUFFLE	COPY_MAP_DATA	90962000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5558101
+SHUFFLE	COMPRESS_BYTE_COUNT	1731380
+SHUFFLE	COPY_MAP_DATA	580141000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5534440
+SHUFFLE	COMPRESS_BYTE_COUNT	1720366
+SHUFFLE	COPY_MAP_DATA	599685000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5558865
+SHUFFLE	COMPRESS_BYTE_COUNT	1732152
+SHUFFLE	COPY_MAP_DATA	100904000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5518494
+SHUFFLE	COMPRESS_BYTE_COUNT	1735991
+SHUFFLE	COPY_MAP_DATA	89759000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5507736
+SHUFFLE	COMPRESS_BYTE_COUNT	1711844
+SHUFFLE	COPY_MAP_DATA	104154000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5508087
+SHUFFLE	COMPRESS_BYTE_COUNT	1711538
+SHUFFLE	COPY_MAP_DATA	82924000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5535629
+SHUFFLE	COMPRESS_BYTE_COUNT	1725308
+SHUFFLE	COPY_MAP_DATA	83075000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5567619
+SHUFFLE	COMPRESS_BYTE_COUNT	1732736
+SHUFFLE	COPY_MAP_DATA	116884000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5507446
+SHUFFLE	COMPRESS_BYTE_COUNT	1747132
+SHUFFLE	COPY_MAP_DATA	83100000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5575311
+SHUFFLE	COMPRESS_BYTE_COUNT	1720864
+SHUFFLE	COPY_MAP_DATA	102306000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5601690
+SHUFFLE	COMPRESS_BYTE_COUNT	1728702
+SHUFFLE	COPY_MAP_DATA	82623000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4703594
+SHUFFLE	COMPRESS_BYTE_COUNT	1444232
+SHUFFLE	COPY_MAP_DATA	375109000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5588914
+SHUFFLE	COMPRESS_BYTE_COUNT	1725057
+SHUFFLE	COPY_MAP_DATA	785414000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4672511
+SHUFFLE	COMPRESS_BYTE_COUNT	1433801
+SHUFFLE	COPY_MAP_DATA	71918000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4484250
+SHUFFLE	COMPRESS_BYTE_COUNT	1393862
+SHUFFLE	COPY_MAP_DATA	161250000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5584758
+SHUFFLE	COMPRESS_BYTE_COUNT	1724157
+SHUFFLE	COPY_MAP_DATA	930856000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5596932
+SHUFFLE	COMPRESS_BYTE_COUNT	1727039
+SHUFFLE	COPY_MAP_DATA	142147000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5602432
+SHUFFLE	COMPRESS_BYTE_COUNT	1729010
+SHUFFLE	COPY_MAP_DATA	396646000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5579159
+SHUFFLE	COMPRESS_BYTE_COUNT	1721676
+SHUFFLE	COPY_MAP_DATA	195811000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4763863
+SHUFFLE	COMPRESS_BYTE_COUNT	1462841
+SHUFFLE	COPY_MAP_DATA	789104000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5594199
+SHUFFLE	COMPRESS_BYTE_COUNT	1725505
+SHUFFLE	COPY_MAP_DATA	110519000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4457241
+SHUFFLE	COMPRESS_BYTE_COUNT	1385363
+SHUFFLE	COPY_MAP_DATA	65854000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4743397
+SHUFFLE	COMPRESS_BYTE_COUNT	1455267
+SHUFFLE	COPY_MAP_DATA	518504000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4762488
+SHUFFLE	COMPRESS_BYTE_COUNT	1461601
+SHUFFLE	COPY_MAP_DATA	128715000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5563710
+SHUFFLE	COMPRESS_BYTE_COUNT	1733530
+SHUFFLE	COPY_MAP_DATA	97319000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5589711
+SHUFFLE	COMPRESS_BYTE_COUNT	1725073
+SHUFFLE	COPY_MAP_DATA	99271000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5587558
+SHUFFLE	COMPRESS_BYTE_COUNT	1725022
+SHUFFLE	COPY_MAP_DATA	2258615000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5598017
+SHUFFLE	COMPRESS_BYTE_COUNT	1727167
+SHUFFLE	COPY_MAP_DATA	87453000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5607349
+SHUFFLE	COMPRESS_BYTE_COUNT	1730743
+SHUFFLE	COPY_MAP_DATA	142527000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4746901
+SHUFFLE	COMPRESS_BYTE_COUNT	1458334
+SHUFFLE	COPY_MAP_DATA	659945000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4685146
+SHUFFLE	COMPRESS_BYTE_COUNT	1437995
+SHUFFLE	COPY_MAP_DATA	99423000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5550163
+SHUFFLE	COMPRESS_BYTE_COUNT	1729246
+SHUFFLE	COPY_MAP_DATA	415537000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5552274
+SHUFFLE	COMPRESS_BYTE_COUNT	1729110
+SHUFFLE	COPY_MAP_DATA	502008000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5554913
+SHUFFLE	COMPRESS_BYTE_COUNT	1729673
+SHUFFLE	COPY_MAP_DATA	99993000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1738344
+SHUFFLE	COMPRESS_BYTE_COUNT	537775
+SHUFFLE	COPY_MAP_DATA	348659000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5556778
+SHUFFLE	COMPRESS_BYTE_COUNT	1731341
+SHUFFLE	COPY_MAP_DATA	924245000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4740146
+SHUFFLE	COMPRESS_BYTE_COUNT	1456124
+SHUFFLE	COPY_MAP_DATA	166255000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5549991
+SHUFFLE	COMPRESS_BYTE_COUNT	1728752
+SHUFFLE	COPY_MAP_DATA	90991000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4716958
+SHUFFLE	COMPRESS_BYTE_COUNT	1447738
+SHUFFLE	COPY_MAP_DATA	146416000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5555963
+SHUFFLE	COMPRESS_BYTE_COUNT	1729634
+SHUFFLE	COPY_MAP_DATA	86786000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4422556
+SHUFFLE	COMPRESS_BYTE_COUNT	1374165
+SHUFFLE	COPY_MAP_DATA	70177000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4500534
+SHUFFLE	COMPRESS_BYTE_COUNT	1398928
+SHUFFLE	COPY_MAP_DATA	153301000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4443919
+SHUFFLE	COMPRESS_BYTE_COUNT	1381571
+SHUFFLE	COPY_MAP_DATA	105154000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5596217
+SHUFFLE	COMPRESS_BYTE_COUNT	1727775
+SHUFFLE	COPY_MAP_DATA	96479000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4273579
+SHUFFLE	COMPRESS_BYTE_COUNT	1328873
+SHUFFLE	COPY_MAP_DATA	67769000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4430074
+SHUFFLE	COMPRESS_BYTE_COUNT	1376131
+SHUFFLE	COPY_MAP_DATA	85962000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1740441
+SHUFFLE	COMPRESS_BYTE_COUNT	537993
+SHUFFLE	COPY_MAP_DATA	44541000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1732750
+SHUFFLE	COMPRESS_BYTE_COUNT	535787
+SHUFFLE	COPY_MAP_DATA	36165000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1729842
+SHUFFLE	COMPRESS_BYTE_COUNT	534706
+SHUFFLE	COPY_MAP_DATA	95472000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1658909
+SHUFFLE	COMPRESS_BYTE_COUNT	517444
+SHUFFLE	COPY_MAP_DATA	479280000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1746716
+SHUFFLE	COMPRESS_BYTE_COUNT	539426
+SHUFFLE	COPY_MAP_DATA	85766000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1743960
+SHUFFLE	COMPRESS_BYTE_COUNT	538434
+SHUFFLE	COPY_MAP_DATA	228368000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1739237
+SHUFFLE	COMPRESS_BYTE_COUNT	537754
+SHUFFLE	COPY_MAP_DATA	226708000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1664836
+SHUFFLE	COMPRESS_BYTE_COUNT	519233
+SHUFFLE	COPY_MAP_DATA	127648000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1673872
+SHUFFLE	COMPRESS_BYTE_COUNT	521886
+SHUFFLE	COPY_MAP_DATA	28036000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4429461
+SHUFFLE	COMPRESS_BYTE_COUNT	1376858
+SHUFFLE	COPY_MAP_DATA	849278000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4716382
+SHUFFLE	COMPRESS_BYTE_COUNT	1446748
+SHUFFLE	COPY_MAP_DATA	174541000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1735946
+SHUFFLE	COMPRESS_BYTE_COUNT	536460
+SHUFFLE	COPY_MAP_DATA	188629000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1730150
+SHUFFLE	COMPRESS_BYTE_COUNT	535484
+SHUFFLE	COPY_MAP_DATA	28599000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5560746
+SHUFFLE	COMPRESS_BYTE_COUNT	1732540
+SHUFFLE	COPY_MAP_DATA	106807000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1664036
+SHUFFLE	COMPRESS_BYTE_COUNT	519115
+SHUFFLE	COPY_MAP_DATA	27035000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4347692
+SHUFFLE	COMPRESS_BYTE_COUNT	1351673
+SHUFFLE	COPY_MAP_DATA	2695764000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1668027
+SHUFFLE	COMPRESS_BYTE_COUNT	520348
+SHUFFLE	COPY_MAP_DATA	28231000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1663491
+SHUFFLE	COMPRESS_BYTE_COUNT	519419
+SHUFFLE	COPY_MAP_DATA	25995000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4581236
+SHUFFLE	COMPRESS_BYTE_COUNT	1406607
+SHUFFLE	COPY_MAP_DATA	245646000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4763828
+SHUFFLE	COMPRESS_BYTE_COUNT	1462727
+SHUFFLE	COPY_MAP_DATA	82010000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4468121
+SHUFFLE	COMPRESS_BYTE_COUNT	1389092
+SHUFFLE	COPY_MAP_DATA	76472000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4653825
+SHUFFLE	COMPRESS_BYTE_COUNT	1427734
+SHUFFLE	COPY_MAP_DATA	240161000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1671197
+SHUFFLE	COMPRESS_BYTE_COUNT	521595
+SHUFFLE	COPY_MAP_DATA	52888000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4438148
+SHUFFLE	COMPRESS_BYTE_COUNT	1380309
+SHUFFLE	COPY_MAP_DATA	497221000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4166512
+SHUFFLE	COMPRESS_BYTE_COUNT	1312976
+SHUFFLE	COPY_MAP_DATA	1524028000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4473179
+SHUFFLE	COMPRESS_BYTE_COUNT	1390157
+SHUFFLE	COPY_MAP_DATA	98372000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1662212
+SHUFFLE	COMPRESS_BYTE_COUNT	518058
+SHUFFLE	COPY_MAP_DATA	33006000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4471235
+SHUFFLE	COMPRESS_BYTE_COUNT	1389266
+SHUFFLE	COPY_MAP_DATA	136594000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4419967
+SHUFFLE	COMPRESS_BYTE_COUNT	1373922
+SHUFFLE	COPY_MAP_DATA	77898000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4623362
+SHUFFLE	COMPRESS_BYTE_COUNT	1419965
+SHUFFLE	COPY_MAP_DATA	67977000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1746891
+SHUFFLE	COMPRESS_BYTE_COUNT	539494
+SHUFFLE	COPY_MAP_DATA	351228000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1744035
+SHUFFLE	COMPRESS_BYTE_COUNT	539060
+SHUFFLE	COPY_MAP_DATA	27915000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1670974
+SHUFFLE	COMPRESS_BYTE_COUNT	521020
+SHUFFLE	COPY_MAP_DATA	26296000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1740521
+SHUFFLE	COMPRESS_BYTE_COUNT	538666
+SHUFFLE	COPY_MAP_DATA	50621000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1660337
+SHUFFLE	COMPRESS_BYTE_COUNT	517486
+SHUFFLE	COPY_MAP_DATA	32730000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1590346
+SHUFFLE	COMPRESS_BYTE_COUNT	501927
+SHUFFLE	COPY_MAP_DATA	67939000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1733067
+SHUFFLE	COMPRESS_BYTE_COUNT	536405
+SHUFFLE	COPY_MAP_DATA	406042000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1657635
+SHUFFLE	COMPRESS_BYTE_COUNT	517886
+SHUFFLE	COPY_MAP_DATA	95897000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1657161
+SHUFFLE	COMPRESS_BYTE_COUNT	516671
+SHUFFLE	COPY_MAP_DATA	139061000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1699143
+SHUFFLE	COMPRESS_BYTE_COUNT	525773
+SHUFFLE	COPY_MAP_DATA	104426000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1674248
+SHUFFLE	COMPRESS_BYTE_COUNT	522572
+SHUFFLE	COPY_MAP_DATA	36918000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1664242
+SHUFFLE	COMPRESS_BYTE_COUNT	518549
+SHUFFLE	COPY_MAP_DATA	27078000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1631698
+SHUFFLE	COMPRESS_BYTE_COUNT	508801
+SHUFFLE	COPY_MAP_DATA	27141000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4510378
+SHUFFLE	COMPRESS_BYTE_COUNT	1402855
+SHUFFLE	COPY_MAP_DATA	88418000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	444258479000
+MERGE	READ_WRITE	432353169000
+MERGE	READ_WRITE_COUNT	8
+MERGE	COMBINE	0
+MERGE	WRITE	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	11708759000
+SORT	READ_WRITE	11492315000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	192269096
+REDUCE	SETUP	407000
+REDUCE	SETUP_MEM	192269096
+REDUCE	CLEANUP	35000
+REDUCE	CLEANUP_MEM	165568448
+REDUCE	TOTAL_RUN	430444635000
+REDUCE	READ	7278003000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	414544016000
+REDUCE	WRITE	237447717000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	55929145
+REDUCE	VALUE_BYTE_COUNT	1649304280
+REDUCE	REDUCE_MEM	165568448
+REDUCE	WRITE	10219000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	1105517559982
@@ -0,0 +1,989 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5529148
+SHUFFLE	COMPRESS_BYTE_COUNT	1718762
+SHUFFLE	COPY_MAP_DATA	245812000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5500603
+SHUFFLE	COMPRESS_BYTE_COUNT	1709944
+SHUFFLE	COPY_MAP_DATA	174187000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5479307
+SHUFFLE	COMPRESS_BYTE_COUNT	1705070
+SHUFFLE	COPY_MAP_DATA	126499000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5529633
+SHUFFLE	COMPRESS_BYTE_COUNT	1718987
+SHUFFLE	COPY_MAP_DATA	273934000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5437034
+SHUFFLE	COMPRESS_BYTE_COUNT	1712174
+SHUFFLE	COPY_MAP_DATA	364049000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5468126
+SHUFFLE	COMPRESS_BYTE_COUNT	1722619
+SHUFFLE	COPY_MAP_DATA	394906000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5553385
+SHUFFLE	COMPRESS_BYTE_COUNT	1703465
+SHUFFLE	COPY_MAP_DATA	227695000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5492987
+SHUFFLE	COMPRESS_BYTE_COUNT	1707916
+SHUFFLE	COPY_MAP_DATA	481345000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5559474
+SHUFFLE	COMPRESS_BYTE_COUNT	1727696
+SHUFFLE	COPY_MAP_DATA	222467000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5505601
+SHUFFLE	COMPRESS_BYTE_COUNT	1710786
+SHUFFLE	COPY_MAP_DATA	260214000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5473765
+SHUFFLE	COMPRESS_BYTE_COUNT	1701203
+SHUFFLE	COPY_MAP_DATA	365476000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5593592
+SHUFFLE	COMPRESS_BYTE_COUNT	1739638
+SHUFFLE	COPY_MAP_DATA	146629000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5510411
+SHUFFLE	COMPRESS_BYTE_COUNT	1712716
+SHUFFLE	COPY_MAP_DATA	285691000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5551627
+SHUFFLE	COMPRESS_BYTE_COUNT	1725449
+SHUFFLE	COPY_MAP_DATA	166500000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5534837
+SHUFFLE	COMPRESS_BYTE_COUNT	1719422
+SHUFFLE	COPY_MAP_DATA	250527000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5513968
+SHUFFLE	COMPRESS_BYTE_COUNT	1712883
+SHUFFLE	COPY_MAP_DATA	241426000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5498708
+SHUFFLE	COMPRESS_BYTE_COUNT	1709129
+SHUFFLE	COPY_MAP_DATA	326315000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5554972
+SHUFFLE	COMPRESS_BYTE_COUNT	1727310
+SHUFFLE	COPY_MAP_DATA	140687000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5456710
+SHUFFLE	COMPRESS_BYTE_COUNT	1696828
+SHUFFLE	COPY_MAP_DATA	381683000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5564612
+SHUFFLE	COMPRESS_BYTE_COUNT	1728772
+SHUFFLE	COPY_MAP_DATA	178073000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5559147
+SHUFFLE	COMPRESS_BYTE_COUNT	1727646
+SHUFFLE	COPY_MAP_DATA	382638000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5538093
+SHUFFLE	COMPRESS_BYTE_COUNT	1721443
+SHUFFLE	COPY_MAP_DATA	291503000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5495775
+SHUFFLE	COMPRESS_BYTE_COUNT	1707734
+SHUFFLE	COPY_MAP_DATA	92165000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5485271
+SHUFFLE	COMPRESS_BYTE_COUNT	1726772
+SHUFFLE	COPY_MAP_DATA	128015000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5504288
+SHUFFLE	COMPRESS_BYTE_COUNT	1733247
+SHUFFLE	COPY_MAP_DATA	1272363000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5546406
+SHUFFLE	COMPRESS_BYTE_COUNT	1725027
+SHUFFLE	COPY_MAP_DATA	322832000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5553764
+SHUFFLE	COMPRESS_BYTE_COUNT	1727121
+SHUFFLE	COPY_MAP_DATA	132986000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5502885
+SHUFFLE	COMPRESS_BYTE_COUNT	1710916
+SHUFFLE	COPY_MAP_DATA	207604000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5522254
+SHUFFLE	COMPRESS_BYTE_COUNT	1716304
+SHUFFLE	COPY_MAP_DATA	479856000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5402516
+SHUFFLE	COMPRESS_BYTE_COUNT	1729013
+SHUFFLE	COPY_MAP_DATA	94605000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5510643
+SHUFFLE	COMPRESS_BYTE_COUNT	1712638
+SHUFFLE	COPY_MAP_DATA	91846000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5535987
+SHUFFLE	COMPRESS_BYTE_COUNT	1721444
+SHUFFLE	COPY_MAP_DATA	1370780000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5543714
+SHUFFLE	COMPRESS_BYTE_COUNT	1700409
+SHUFFLE	COPY_MAP_DATA	337170000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5517690
+SHUFFLE	COMPRESS_BYTE_COUNT	1693409
+SHUFFLE	COPY_MAP_DATA	115251000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5508086
+SHUFFLE	COMPRESS_BYTE_COUNT	1712703
+SHUFFLE	COPY_MAP_DATA	106959000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5535080
+SHUFFLE	COMPRESS_BYTE_COUNT	1719119
+SHUFFLE	COPY_MAP_DATA	176060000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5524514
+SHUFFLE	COMPRESS_BYTE_COUNT	1697169
+SHUFFLE	COPY_MAP_DATA	527968000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5479867
+SHUFFLE	COMPRESS_BYTE_COUNT	1702683
+SHUFFLE	COPY_MAP_DATA	929804000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5496482
+SHUFFLE	COMPRESS_BYTE_COUNT	1709797
+SHUFFLE	COPY_MAP_DATA	2466781000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5523501
+SHUFFLE	COMPRESS_BYTE_COUNT	1717213
+SHUFFLE	COPY_MAP_DATA	87551000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5506419
+SHUFFLE	COMPRESS_BYTE_COUNT	1690243
+SHUFFLE	COPY_MAP_DATA	101707000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5547956
+SHUFFLE	COMPRESS_BYTE_COUNT	1723905
+SHUFFLE	COPY_MAP_DATA	507506000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5435137
+SHUFFLE	COMPRESS_BYTE_COUNT	1712195
+SHUFFLE	COPY_MAP_DATA	305436000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5535239
+SHUFFLE	COMPRESS_BYTE_COUNT	1720673
+SHUFFLE	COPY_MAP_DATA	324405000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5484785
+SHUFFLE	COMPRESS_BYTE_COUNT	1706331
+SHUFFLE	COPY_MAP_DATA	147908000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5529990
+SHUFFLE	COMPRESS_BYTE_COUNT	1696609
+SHUFFLE	COPY_MAP_DATA	1495999000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5483487
+SHUFFLE	COMPRESS_BYTE_COUNT	1704535
+SHUFFLE	COPY_MAP_DATA	431021000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5589755
+SHUFFLE	COMPRESS_BYTE_COUNT	1715791
+SHUFFLE	COPY_MAP_DATA	2231974000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5587408
+SHUFFLE	COMPRESS_BYTE_COUNT	1715069
+SHUFFLE	COPY_MAP_DATA	81952000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5498369
+SHUFFLE	COMPRESS_BYTE_COUNT	1708720
+SHUFFLE	COPY_MAP_DATA	8671543759
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5512068
+SHUFFLE	COMPRESS_BYTE_COUNT	1712908
+SHUFFLE	COPY_MAP_DATA	1336059000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5573950
+SHUFFLE	COMPRESS_BYTE_COUNT	1710041
+SHUFFLE	COPY_MAP_DATA	99387000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5505676
+SHUFFLE	COMPRESS_BYTE_COUNT	1689960
+SHUFFLE	COPY_MAP_DATA	107604000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5513725
+SHUFFLE	COMPRESS_BYTE_COUNT	1713191
+SHUFFLE	COPY_MAP_DATA	95001000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5555737
+SHUFFLE	COMPRESS_BYTE_COUNT	1705997
+SHUFFLE	COPY_MAP_DATA	956837000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5496833
+SHUFFLE	COMPRESS_BYTE_COUNT	1704884
+SHUFFLE	COPY_MAP_DATA	101582000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5545503
+SHUFFLE	COMPRESS_BYTE_COUNT	1721424
+SHUFFLE	COPY_MAP_DATA	96700000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5521725
+SHUFFLE	COMPRESS_BYTE_COUNT	1696485
+SHUFFLE	COPY_MAP_DATA	1558305000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5587158
+SHUFFLE	COMPRESS_BYTE_COUNT	1714969
+SHUFFLE	COPY_MAP_DATA	1520477000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5537650
+SHUFFLE	COMPRESS_BYTE_COUNT	1699282
+SHUFFLE	COPY_MAP_DATA	88331000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5531213
+SHUFFLE	COMPRESS_BYTE_COUNT	1697984
+SHUFFLE	COPY_MAP_DATA	126314000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5569651
+SHUFFLE	COMPRESS_BYTE_COUNT	1709315
+SHUFFLE	COPY_MAP_DATA	3799807000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5576695
+SHUFFLE	COMPRESS_BYTE_COUNT	1710899
+SHUFFLE	COPY_MAP_DATA	2772907000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5558880
+SHUFFLE	COMPRESS_BYTE_COUNT	1705432
+SHUFFLE	COPY_MAP_DATA	101265000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5562065
+SHUFFLE	COMPRESS_BYTE_COUNT	1707814
+SHUFFLE	COPY_MAP_DATA	305135000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5595335
+SHUFFLE	COMPRESS_BYTE_COUNT	1717206
+SHUFFLE	COPY_MAP_DATA	97683000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5457985
+SHUFFLE	COMPRESS_BYTE_COUNT	1714820
+SHUFFLE	COPY_MAP_DATA	2082393000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5532914
+SHUFFLE	COMPRESS_BYTE_COUNT	1698649
+SHUFFLE	COPY_MAP_DATA	1331981000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5480252
+SHUFFLE	COMPRESS_BYTE_COUNT	1724880
+SHUFFLE	COPY_MAP_DATA	83231000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5547115
+SHUFFLE	COMPRESS_BYTE_COUNT	1701720
+SHUFFLE	COPY_MAP_DATA	402129000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5555934
+SHUFFLE	COMPRESS_BYTE_COUNT	1705845
+SHUFFLE	COPY_MAP_DATA	129117000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5506530
+SHUFFLE	COMPRESS_BYTE_COUNT	1689680
+SHUFFLE	COPY_MAP_DATA	789040000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5572875
+SHUFFLE	COMPRESS_BYTE_COUNT	1711178
+SHUFFLE	COPY_MAP_DATA	321806000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5568547
+SHUFFLE	COMPRESS_BYTE_COUNT	1709513
+SHUFFLE	COPY_MAP_DATA	749286000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5577705
+SHUFFLE	COMPRESS_BYTE_COUNT	1711598
+SHUFFLE	COPY_MAP_DATA	606779000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5547629
+SHUFFLE	COMPRESS_BYTE_COUNT	1703435
+SHUFFLE	COPY_MAP_DATA	2298154000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5541122
+SHUFFLE	COMPRESS_BYTE_COUNT	1701242
+SHUFFLE	COPY_MAP_DATA	87001000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5573797
+SHUFFLE	COMPRESS_BYTE_COUNT	1710041
+SHUFFLE	COPY_MAP_DATA	91976000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5501148
+SHUFFLE	COMPRESS_BYTE_COUNT	1688677
+SHUFFLE	COPY_MAP_DATA	1678185000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5582253
+SHUFFLE	COMPRESS_BYTE_COUNT	1713479
+SHUFFLE	COPY_MAP_DATA	555126000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5528815
+SHUFFLE	COMPRESS_BYTE_COUNT	1696922
+SHUFFLE	COPY_MAP_DATA	174304000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5485266
+SHUFFLE	COMPRESS_BYTE_COUNT	1684125
+SHUFFLE	COPY_MAP_DATA	92124000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5543997
+SHUFFLE	COMPRESS_BYTE_COUNT	1702624
+SHUFFLE	COPY_MAP_DATA	101525000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5451547
+SHUFFLE	COMPRESS_BYTE_COUNT	1716826
+SHUFFLE	COPY_MAP_DATA	103327000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5489086
+SHUFFLE	COMPRESS_BYTE_COUNT	1685377
+SHUFFLE	COPY_MAP_DATA	463326000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5529403
+SHUFFLE	COMPRESS_BYTE_COUNT	1698931
+SHUFFLE	COPY_MAP_DATA	5046534000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5587081
+SHUFFLE	COMPRESS_BYTE_COUNT	1714322
+SHUFFLE	COPY_MAP_DATA	85506000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5491848
+SHUFFLE	COMPRESS_BYTE_COUNT	1686153
+SHUFFLE	COPY_MAP_DATA	216610000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5543272
+SHUFFLE	COMPRESS_BYTE_COUNT	1701880
+SHUFFLE	COPY_MAP_DATA	3936385000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5513984
+SHUFFLE	COMPRESS_BYTE_COUNT	1693426
+SHUFFLE	COPY_MAP_DATA	98291000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5593242
+SHUFFLE	COMPRESS_BYTE_COUNT	1715937
+SHUFFLE	COPY_MAP_DATA	96282000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5539524
+SHUFFLE	COMPRESS_BYTE_COUNT	1699682
+SHUFFLE	COPY_MAP_DATA	109291000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5524290
+SHUFFLE	COMPRESS_BYTE_COUNT	1696217
+SHUFFLE	COPY_MAP_DATA	87652000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5560650
+SHUFFLE	COMPRESS_BYTE_COUNT	1706296
+SHUFFLE	COPY_MAP_DATA	88168000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5578814
+SHUFFLE	COMPRESS_BYTE_COUNT	1711648
+SHUFFLE	COPY_MAP_DATA	478905000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5504418
+SHUFFLE	COMPRESS_BYTE_COUNT	1689370
+SHUFFLE	COPY_MAP_DATA	2949539000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5523793
+SHUFFLE	COMPRESS_BYTE_COUNT	1717226
+SHUFFLE	COPY_MAP_DATA	381361000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5548672
+SHUFFLE	COMPRESS_BYTE_COUNT	1702846
+SHUFFLE	COPY_MAP_DATA	102454000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5569234
+SHUFFLE	COMPRESS_BYTE_COUNT	1709702
+SHUFFLE	COPY_MAP_DATA	417248000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5570943
+SHUFFLE	COMPRESS_BYTE_COUNT	1730323
+SHUFFLE	COPY_MAP_DATA	87552000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5592253
+SHUFFLE	COMPRESS_BYTE_COUNT	1717825
+SHUFFLE	COPY_MAP_DATA	449731000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5579655
+SHUFFLE	COMPRESS_BYTE_COUNT	1711649
+SHUFFLE	COPY_MAP_DATA	80210000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5590932
+SHUFFLE	COMPRESS_BYTE_COUNT	1716484
+SHUFFLE	COPY_MAP_DATA	484308000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5587967
+SHUFFLE	COMPRESS_BYTE_COUNT	1715234
+SHUFFLE	COPY_MAP_DATA	141043000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5576497
+SHUFFLE	COMPRESS_BYTE_COUNT	1711037
+SHUFFLE	COPY_MAP_DATA	1174660000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5518925
+SHUFFLE	COMPRESS_BYTE_COUNT	1693405
+SHUFFLE	COPY_MAP_DATA	113049000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5541332
+SHUFFLE	COMPRESS_BYTE_COUNT	1701280
+SHUFFLE	COPY_MAP_DATA	579646000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5476424
+SHUFFLE	COMPRESS_BYTE_COUNT	1702789
+SHUFFLE	COPY_MAP_DATA	2735874000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5455341
+SHUFFLE	COMPRESS_BYTE_COUNT	1675371
+SHUFFLE	COPY_MAP_DATA	4635380000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5492493
+SHUFFLE	COMPRESS_BYTE_COUNT	1686436
+SHUFFLE	COPY_MAP_DATA	1293186000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5554734
+SHUFFLE	COMPRESS_BYTE_COUNT	1726614
+SHUFFLE	COPY_MAP_DATA	1262102000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5590143
+SHUFFLE	COMPRESS_BYTE_COUNT	1715193
+SHUFFLE	COPY_MAP_DATA	90427000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5505433
+SHUFFLE	COMPRESS_BYTE_COUNT	1689544
+SHUFFLE	COPY_MAP_DATA	2398477000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5508524
+SHUFFLE	COMPRESS_BYTE_COUNT	1712150
+SHUFFLE	COPY_MAP_DATA	374349000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5545914
+SHUFFLE	COMPRESS_BYTE_COUNT	1724077
+SHUFFLE	COPY_MAP_DATA	538014000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5510117
+SHUFFLE	COMPRESS_BYTE_COUNT	1712008
+SHUFFLE	COPY_MAP_DATA	160755000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5545303
+SHUFFLE	COMPRESS_BYTE_COUNT	1702429
+SHUFFLE	COPY_MAP_DATA	125069000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5478717
+SHUFFLE	COMPRESS_BYTE_COUNT	1682178
+SHUFFLE	COPY_MAP_DATA	98494000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5564822
+SHUFFLE	COMPRESS_BYTE_COUNT	1707605
+SHUFFLE	COPY_MAP_DATA	138839000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5496840
+SHUFFLE	COMPRESS_BYTE_COUNT	1708657
+SHUFFLE	COPY_MAP_DATA	97809000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5515357
+SHUFFLE	COMPRESS_BYTE_COUNT	1714413
+SHUFFLE	COPY_MAP_DATA	190379000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5580185
+SHUFFLE	COMPRESS_BYTE_COUNT	1713110
+SHUFFLE	COPY_MAP_DATA	3291505000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5513194
+SHUFFLE	COMPRESS_BYTE_COUNT	1714637
+SHUFFLE	COPY_MAP_DATA	498074000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5543197
+SHUFFLE	COMPRESS_BYTE_COUNT	1722959
+SHUFFLE	COPY_MAP_DATA	273692000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5560177
+SHUFFLE	COMPRESS_BYTE_COUNT	1706082
+SHUFFLE	COPY_MAP_DATA	1800917000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5530855
+SHUFFLE	COMPRESS_BYTE_COUNT	1719900
+SHUFFLE	COPY_MAP_DATA	335460000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5513944
+SHUFFLE	COMPRESS_BYTE_COUNT	1713565
+SHUFFLE	COPY_MAP_DATA	106647000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5533034
+SHUFFLE	COMPRESS_BYTE_COUNT	1720178
+SHUFFLE	COPY_MAP_DATA	921829000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5491909
+SHUFFLE	COMPRESS_BYTE_COUNT	1706420
+SHUFFLE	COPY_MAP_DATA	86250000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5503718
+SHUFFLE	COMPRESS_BYTE_COUNT	1710997
+SHUFFLE	COPY_MAP_DATA	205356000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5470455
+SHUFFLE	COMPRESS_BYTE_COUNT	1701916
+SHUFFLE	COPY_MAP_DATA	138154000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5442542
+SHUFFLE	COMPRESS_BYTE_COUNT	1692434
+SHUFFLE	COPY_MAP_DATA	1689806000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5563654
+SHUFFLE	COMPRESS_BYTE_COUNT	1707860
+SHUFFLE	COPY_MAP_DATA	1008018000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5574679
+SHUFFLE	COMPRESS_BYTE_COUNT	1732414
+SHUFFLE	COPY_MAP_DATA	343128000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5521484
+SHUFFLE	COMPRESS_BYTE_COUNT	1715700
+SHUFFLE	COPY_MAP_DATA	1443024000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5562387
+SHUFFLE	COMPRESS_BYTE_COUNT	1732558
+SHUFFLE	COPY_MAP_DATA	102635000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5528260
+SHUFFLE	COMPRESS_BYTE_COUNT	1718346
+SHUFFLE	COPY_MAP_DATA	511115000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5541897
+SHUFFLE	COMPRESS_BYTE_COUNT	1721211
+SHUFFLE	COPY_MAP_DATA	1553867000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5554036
+SHUFFLE	COMPRESS_BYTE_COUNT	1726551
+SHUFFLE	COPY_MAP_DATA	271788000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5521039
+SHUFFLE	COMPRESS_BYTE_COUNT	1715950
+SHUFFLE	COPY_MAP_DATA	102074000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5497904
+SHUFFLE	COMPRESS_BYTE_COUNT	1708978
+SHUFFLE	COPY_MAP_DATA	96928000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5533197
+SHUFFLE	COMPRESS_BYTE_COUNT	1719732
+SHUFFLE	COPY_MAP_DATA	96554000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5544885
+SHUFFLE	COMPRESS_BYTE_COUNT	1727621
+SHUFFLE	COPY_MAP_DATA	135401000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5545139
+SHUFFLE	COMPRESS_BYTE_COUNT	1723804
+SHUFFLE	COPY_MAP_DATA	1273037000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5464108
+SHUFFLE	COMPRESS_BYTE_COUNT	1698394
+SHUFFLE	COPY_MAP_DATA	157227000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5515493
+SHUFFLE	COMPRESS_BYTE_COUNT	1714842
+SHUFFLE	COPY_MAP_DATA	152681000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5595179
+SHUFFLE	COMPRESS_BYTE_COUNT	1737705
+SHUFFLE	COPY_MAP_DATA	98279000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5558823
+SHUFFLE	COMPRESS_BYTE_COUNT	1732436
+SHUFFLE	COPY_MAP_DATA	84519000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5567954
+SHUFFLE	COMPRESS_BYTE_COUNT	1733678
+SHUFFLE	COPY_MAP_DATA	121163000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5576853
+SHUFFLE	COMPRESS_BYTE_COUNT	1732889
+SHUFFLE	COPY_MAP_DATA	313678000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5531075
+SHUFFLE	COMPRESS_BYTE_COUNT	1718684
+SHUFFLE	COPY_MAP_DATA	2169066000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5486174
+SHUFFLE	COMPRESS_BYTE_COUNT	1705734
+SHUFFLE	COPY_MAP_DATA	275041000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5559285
+SHUFFLE	COMPRESS_BYTE_COUNT	1731418
+SHUFFLE	COPY_MAP_DATA	1529016000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5507935
+SHUFFLE	COMPRESS_BYTE_COUNT	1734559
+SHUFFLE	COPY_MAP_DATA	1204733000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5502218
+SHUFFLE	COMPRESS_BYTE_COUNT	1710031
+SHUFFLE	COPY_MAP_DATA	94430000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5452078
+SHUFFLE	COMPRESS_BYTE_COUNT	1694859
+SHUFFLE	COPY_MAP_DATA	91217000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5572765
+SHUFFLE	COMPRESS_BYTE_COUNT	1733732
+SHUFFLE	COPY_MAP_DATA	90374000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5543079
+SHUFFLE	COMPRESS_BYTE_COUNT	1727443
+SHUFFLE	COPY_MAP_DATA	167256000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5509337
+SHUFFLE	COMPRESS_BYTE_COUNT	1747737
+SHUFFLE	COPY_MAP_DATA	614602000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5575745
+SHUFFLE	COMPRESS_BYTE_COUNT	1720614
+SHUFFLE	COPY_MAP_DATA	329555000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5603810
+SHUFFLE	COMPRESS_BYTE_COUNT	1729273
+SHUFFLE	COPY_MAP_DATA	98704000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4721740
+SHUFFLE	COMPRESS_BYTE_COUNT	1449988
+SHUFFLE	COPY_MAP_DATA	80895000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4715471
+SHUFFLE	COMPRESS_BYTE_COUNT	1448293
+SHUFFLE	COPY_MAP_DATA	75914000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4497483
+SHUFFLE	COMPRESS_BYTE_COUNT	1398172
+SHUFFLE	COPY_MAP_DATA	224723000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5582378
+SHUFFLE	COMPRESS_BYTE_COUNT	1724043
+SHUFFLE	COPY_MAP_DATA	235442000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5584686
+SHUFFLE	COMPRESS_BYTE_COUNT	1724227
+SHUFFLE	COPY_MAP_DATA	252301000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5599751
+SHUFFLE	COMPRESS_BYTE_COUNT	1728451
+SHUFFLE	COPY_MAP_DATA	84857000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5600790
+SHUFFLE	COMPRESS_BYTE_COUNT	1729110
+SHUFFLE	COPY_MAP_DATA	94322000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4719446
+SHUFFLE	COMPRESS_BYTE_COUNT	1448662
+SHUFFLE	COPY_MAP_DATA	776639000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4477974
+SHUFFLE	COMPRESS_BYTE_COUNT	1392042
+SHUFFLE	COPY_MAP_DATA	102191000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5583083
+SHUFFLE	COMPRESS_BYTE_COUNT	1723115
+SHUFFLE	COPY_MAP_DATA	1066208000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5590995
+SHUFFLE	COMPRESS_BYTE_COUNT	1727135
+SHUFFLE	COPY_MAP_DATA	103685000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4771693
+SHUFFLE	COMPRESS_BYTE_COUNT	1464358
+SHUFFLE	COPY_MAP_DATA	395597000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5561820
+SHUFFLE	COMPRESS_BYTE_COUNT	1732097
+SHUFFLE	COPY_MAP_DATA	88098000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5591035
+SHUFFLE	COMPRESS_BYTE_COUNT	1725956
+SHUFFLE	COPY_MAP_DATA	357254000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5592730
+SHUFFLE	COMPRESS_BYTE_COUNT	1726401
+SHUFFLE	COPY_MAP_DATA	395938000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5589782
+SHUFFLE	COMPRESS_BYTE_COUNT	1725371
+SHUFFLE	COPY_MAP_DATA	124598000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5604171
+SHUFFLE	COMPRESS_BYTE_COUNT	1729883
+SHUFFLE	COPY_MAP_DATA	460837000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4780463
+SHUFFLE	COMPRESS_BYTE_COUNT	1467210
+SHUFFLE	COPY_MAP_DATA	203909000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4789821
+SHUFFLE	COMPRESS_BYTE_COUNT	1470757
+SHUFFLE	COPY_MAP_DATA	90071000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4685193
+SHUFFLE	COMPRESS_BYTE_COUNT	1438771
+SHUFFLE	COPY_MAP_DATA	88665000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5553768
+SHUFFLE	COMPRESS_BYTE_COUNT	1730073
+SHUFFLE	COPY_MAP_DATA	234995000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5548565
+SHUFFLE	COMPRESS_BYTE_COUNT	1729587
+SHUFFLE	COPY_MAP_DATA	139625000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5544414
+SHUFFLE	COMPRESS_BYTE_COUNT	1727410
+SHUFFLE	COPY_MAP_DATA	158893000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5564713
+SHUFFLE	COMPRESS_BYTE_COUNT	1732028
+SHUFFLE	COPY_MAP_DATA	94822000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1740276
+SHUFFLE	COMPRESS_BYTE_COUNT	538002
+SHUFFLE	COPY_MAP_DATA	31630000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4743818
+SHUFFLE	COMPRESS_BYTE_COUNT	1456703
+SHUFFLE	COPY_MAP_DATA	90659000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5553057
+SHUFFLE	COMPRESS_BYTE_COUNT	1730154
+SHUFFLE	COPY_MAP_DATA	358549000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4767551
+SHUFFLE	COMPRESS_BYTE_COUNT	1464028
+SHUFFLE	COPY_MAP_DATA	75003000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4465976
+SHUFFLE	COMPRESS_BYTE_COUNT	1387897
+SHUFFLE	COPY_MAP_DATA	75052000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5554670
+SHUFFLE	COMPRESS_BYTE_COUNT	1731130
+SHUFFLE	COPY_MAP_DATA	152771000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4461157
+SHUFFLE	COMPRESS_BYTE_COUNT	1387332
+SHUFFLE	COPY_MAP_DATA	124223000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4486968
+SHUFFLE	COMPRESS_BYTE_COUNT	1395140
+SHUFFLE	COPY_MAP_DATA	71150000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4295918
+SHUFFLE	COMPRESS_BYTE_COUNT	1335392
+SHUFFLE	COPY_MAP_DATA	117100000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5599242
+SHUFFLE	COMPRESS_BYTE_COUNT	1727990
+SHUFFLE	COPY_MAP_DATA	89695000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4450115
+SHUFFLE	COMPRESS_BYTE_COUNT	1383500
+SHUFFLE	COPY_MAP_DATA	91786000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1733276
+SHUFFLE	COMPRESS_BYTE_COUNT	535978
+SHUFFLE	COPY_MAP_DATA	29883000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1740802
+SHUFFLE	COMPRESS_BYTE_COUNT	538188
+SHUFFLE	COPY_MAP_DATA	10147691000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1732620
+SHUFFLE	COMPRESS_BYTE_COUNT	535442
+SHUFFLE	COPY_MAP_DATA	1054629000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1663829
+SHUFFLE	COMPRESS_BYTE_COUNT	518982
+SHUFFLE	COPY_MAP_DATA	29469000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1752682
+SHUFFLE	COMPRESS_BYTE_COUNT	541369
+SHUFFLE	COPY_MAP_DATA	31185000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1735617
+SHUFFLE	COMPRESS_BYTE_COUNT	536568
+SHUFFLE	COPY_MAP_DATA	41318000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1739056
+SHUFFLE	COMPRESS_BYTE_COUNT	538161
+SHUFFLE	COPY_MAP_DATA	29752000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1664358
+SHUFFLE	COMPRESS_BYTE_COUNT	519346
+SHUFFLE	COPY_MAP_DATA	39519000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4726884
+SHUFFLE	COMPRESS_BYTE_COUNT	1451351
+SHUFFLE	COPY_MAP_DATA	87453000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1732151
+SHUFFLE	COMPRESS_BYTE_COUNT	535636
+SHUFFLE	COPY_MAP_DATA	33452000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1733464
+SHUFFLE	COMPRESS_BYTE_COUNT	535755
+SHUFFLE	COPY_MAP_DATA	133409000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4415623
+SHUFFLE	COMPRESS_BYTE_COUNT	1371820
+SHUFFLE	COPY_MAP_DATA	2234987000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1674839
+SHUFFLE	COMPRESS_BYTE_COUNT	522523
+SHUFFLE	COPY_MAP_DATA	29865000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5566728
+SHUFFLE	COMPRESS_BYTE_COUNT	1734457
+SHUFFLE	COPY_MAP_DATA	163638000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1668699
+SHUFFLE	COMPRESS_BYTE_COUNT	520704
+SHUFFLE	COPY_MAP_DATA	55914000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4403872
+SHUFFLE	COMPRESS_BYTE_COUNT	1369483
+SHUFFLE	COPY_MAP_DATA	210566000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1665349
+SHUFFLE	COMPRESS_BYTE_COUNT	519957
+SHUFFLE	COPY_MAP_DATA	28070000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4580802
+SHUFFLE	COMPRESS_BYTE_COUNT	1405470
+SHUFFLE	COPY_MAP_DATA	72292000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4761124
+SHUFFLE	COMPRESS_BYTE_COUNT	1461935
+SHUFFLE	COPY_MAP_DATA	90482000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4488889
+SHUFFLE	COMPRESS_BYTE_COUNT	1395605
+SHUFFLE	COPY_MAP_DATA	451070000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4675167
+SHUFFLE	COMPRESS_BYTE_COUNT	1436134
+SHUFFLE	COPY_MAP_DATA	148929000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1667510
+SHUFFLE	COMPRESS_BYTE_COUNT	519748
+SHUFFLE	COPY_MAP_DATA	185603000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4392620
+SHUFFLE	COMPRESS_BYTE_COUNT	1364707
+SHUFFLE	COPY_MAP_DATA	96649000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4447844
+SHUFFLE	COMPRESS_BYTE_COUNT	1382955
+SHUFFLE	COPY_MAP_DATA	96304000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4717135
+SHUFFLE	COMPRESS_BYTE_COUNT	1448159
+SHUFFLE	COPY_MAP_DATA	73760000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4161674
+SHUFFLE	COMPRESS_BYTE_COUNT	1310436
+SHUFFLE	COPY_MAP_DATA	1564627000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4420248
+SHUFFLE	COMPRESS_BYTE_COUNT	1373204
+SHUFFLE	COPY_MAP_DATA	70916000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1668994
+SHUFFLE	COMPRESS_BYTE_COUNT	520806
+SHUFFLE	COPY_MAP_DATA	119536000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1672570
+SHUFFLE	COMPRESS_BYTE_COUNT	521904
+SHUFFLE	COPY_MAP_DATA	26713000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1743990
+SHUFFLE	COMPRESS_BYTE_COUNT	538897
+SHUFFLE	COPY_MAP_DATA	27906000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4428877
+SHUFFLE	COMPRESS_BYTE_COUNT	1377022
+SHUFFLE	COPY_MAP_DATA	67838000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1747455
+SHUFFLE	COMPRESS_BYTE_COUNT	539972
+SHUFFLE	COPY_MAP_DATA	376307000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1654091
+SHUFFLE	COMPRESS_BYTE_COUNT	516639
+SHUFFLE	COPY_MAP_DATA	181341000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1661855
+SHUFFLE	COMPRESS_BYTE_COUNT	518631
+SHUFFLE	COPY_MAP_DATA	199808000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1744065
+SHUFFLE	COMPRESS_BYTE_COUNT	539697
+SHUFFLE	COPY_MAP_DATA	26038000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1659827
+SHUFFLE	COMPRESS_BYTE_COUNT	517660
+SHUFFLE	COPY_MAP_DATA	36609000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1735524
+SHUFFLE	COMPRESS_BYTE_COUNT	536626
+SHUFFLE	COPY_MAP_DATA	173248000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1583666
+SHUFFLE	COMPRESS_BYTE_COUNT	500157
+SHUFFLE	COPY_MAP_DATA	25168000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1702309
+SHUFFLE	COMPRESS_BYTE_COUNT	526242
+SHUFFLE	COPY_MAP_DATA	235931000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1660279
+SHUFFLE	COMPRESS_BYTE_COUNT	518279
+SHUFFLE	COPY_MAP_DATA	115935000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1659000
+SHUFFLE	COMPRESS_BYTE_COUNT	517752
+SHUFFLE	COPY_MAP_DATA	39332000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1624060
+SHUFFLE	COMPRESS_BYTE_COUNT	507617
+SHUFFLE	COPY_MAP_DATA	25744000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1672367
+SHUFFLE	COMPRESS_BYTE_COUNT	521553
+SHUFFLE	COPY_MAP_DATA	26645000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4439867
+SHUFFLE	COMPRESS_BYTE_COUNT	1380658
+SHUFFLE	COPY_MAP_DATA	66848000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	432935399000
+MERGE	READ_WRITE	424291124000
+MERGE	READ_WRITE_COUNT	8
+MERGE	COMBINE	0
+MERGE	WRITE	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	7118829000
+SORT	READ_WRITE	7028867000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	141618288
+REDUCE	SETUP	354000
+REDUCE	SETUP_MEM	141618288
+REDUCE	CLEANUP	34000
+REDUCE	CLEANUP_MEM	158361832
+REDUCE	TOTAL_RUN	434820878000
+REDUCE	READ	7904973000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	417927611000
+REDUCE	WRITE	231282515000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	55897816
+REDUCE	VALUE_BYTE_COUNT	1648305601
+REDUCE	REDUCE_MEM	158363880
+REDUCE	WRITE	30754000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	1117084754759
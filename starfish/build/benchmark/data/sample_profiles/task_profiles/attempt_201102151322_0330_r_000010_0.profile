@@ -0,0 +1,989 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5521540
+SHUFFLE	COMPRESS_BYTE_COUNT	1716529
+SHUFFLE	COPY_MAP_DATA	172776000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5531360
+SHUFFLE	COMPRESS_BYTE_COUNT	1717779
+SHUFFLE	COPY_MAP_DATA	149429000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5480679
+SHUFFLE	COMPRESS_BYTE_COUNT	1724671
+SHUFFLE	COPY_MAP_DATA	157267000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5512011
+SHUFFLE	COMPRESS_BYTE_COUNT	1713842
+SHUFFLE	COPY_MAP_DATA	130405000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5523755
+SHUFFLE	COMPRESS_BYTE_COUNT	1716676
+SHUFFLE	COPY_MAP_DATA	613859000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5522096
+SHUFFLE	COMPRESS_BYTE_COUNT	1715703
+SHUFFLE	COPY_MAP_DATA	330299000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5434034
+SHUFFLE	COMPRESS_BYTE_COUNT	1690413
+SHUFFLE	COPY_MAP_DATA	105989000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5516070
+SHUFFLE	COMPRESS_BYTE_COUNT	1713442
+SHUFFLE	COPY_MAP_DATA	107827000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5503416
+SHUFFLE	COMPRESS_BYTE_COUNT	1731535
+SHUFFLE	COPY_MAP_DATA	258250000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5570960
+SHUFFLE	COMPRESS_BYTE_COUNT	1731130
+SHUFFLE	COPY_MAP_DATA	142457000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5547179
+SHUFFLE	COMPRESS_BYTE_COUNT	1702265
+SHUFFLE	COPY_MAP_DATA	248440000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5505006
+SHUFFLE	COMPRESS_BYTE_COUNT	1710431
+SHUFFLE	COPY_MAP_DATA	200402000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5454154
+SHUFFLE	COMPRESS_BYTE_COUNT	1695608
+SHUFFLE	COPY_MAP_DATA	316159000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5471530
+SHUFFLE	COMPRESS_BYTE_COUNT	1701221
+SHUFFLE	COPY_MAP_DATA	154492000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5550047
+SHUFFLE	COMPRESS_BYTE_COUNT	1724549
+SHUFFLE	COPY_MAP_DATA	442026000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5509839
+SHUFFLE	COMPRESS_BYTE_COUNT	1712360
+SHUFFLE	COPY_MAP_DATA	89312000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5599925
+SHUFFLE	COMPRESS_BYTE_COUNT	1740082
+SHUFFLE	COPY_MAP_DATA	208424000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5483108
+SHUFFLE	COMPRESS_BYTE_COUNT	1726151
+SHUFFLE	COPY_MAP_DATA	99557000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5507665
+SHUFFLE	COMPRESS_BYTE_COUNT	1711429
+SHUFFLE	COPY_MAP_DATA	287245000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5515711
+SHUFFLE	COMPRESS_BYTE_COUNT	1713389
+SHUFFLE	COPY_MAP_DATA	113642000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5573249
+SHUFFLE	COMPRESS_BYTE_COUNT	1731163
+SHUFFLE	COPY_MAP_DATA	119848000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5514262
+SHUFFLE	COMPRESS_BYTE_COUNT	1714601
+SHUFFLE	COPY_MAP_DATA	161763000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5508113
+SHUFFLE	COMPRESS_BYTE_COUNT	1711851
+SHUFFLE	COPY_MAP_DATA	489777000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5460790
+SHUFFLE	COMPRESS_BYTE_COUNT	1718890
+SHUFFLE	COPY_MAP_DATA	94371000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5503971
+SHUFFLE	COMPRESS_BYTE_COUNT	1710555
+SHUFFLE	COPY_MAP_DATA	497374000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5490787
+SHUFFLE	COMPRESS_BYTE_COUNT	1707805
+SHUFFLE	COPY_MAP_DATA	423619000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5481969
+SHUFFLE	COMPRESS_BYTE_COUNT	1704103
+SHUFFLE	COPY_MAP_DATA	389746000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5514126
+SHUFFLE	COMPRESS_BYTE_COUNT	1714084
+SHUFFLE	COPY_MAP_DATA	114140000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5515744
+SHUFFLE	COMPRESS_BYTE_COUNT	1713161
+SHUFFLE	COPY_MAP_DATA	133584000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5466058
+SHUFFLE	COMPRESS_BYTE_COUNT	1748165
+SHUFFLE	COPY_MAP_DATA	3495216000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5481571
+SHUFFLE	COMPRESS_BYTE_COUNT	1704868
+SHUFFLE	COPY_MAP_DATA	219680000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5541993
+SHUFFLE	COMPRESS_BYTE_COUNT	1699857
+SHUFFLE	COPY_MAP_DATA	135443000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5518195
+SHUFFLE	COMPRESS_BYTE_COUNT	1715043
+SHUFFLE	COPY_MAP_DATA	83990000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5489158
+SHUFFLE	COMPRESS_BYTE_COUNT	1684743
+SHUFFLE	COPY_MAP_DATA	143522000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5544619
+SHUFFLE	COMPRESS_BYTE_COUNT	1723168
+SHUFFLE	COPY_MAP_DATA	438551000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5447808
+SHUFFLE	COMPRESS_BYTE_COUNT	1693685
+SHUFFLE	COPY_MAP_DATA	82975000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5484610
+SHUFFLE	COMPRESS_BYTE_COUNT	1703293
+SHUFFLE	COPY_MAP_DATA	146598000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5549113
+SHUFFLE	COMPRESS_BYTE_COUNT	1704214
+SHUFFLE	COPY_MAP_DATA	84512000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5493174
+SHUFFLE	COMPRESS_BYTE_COUNT	1706646
+SHUFFLE	COPY_MAP_DATA	2996394000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5552597
+SHUFFLE	COMPRESS_BYTE_COUNT	1726038
+SHUFFLE	COPY_MAP_DATA	111520000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5535521
+SHUFFLE	COMPRESS_BYTE_COUNT	1699649
+SHUFFLE	COPY_MAP_DATA	338606000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5513281
+SHUFFLE	COMPRESS_BYTE_COUNT	1713220
+SHUFFLE	COPY_MAP_DATA	210846000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5504287
+SHUFFLE	COMPRESS_BYTE_COUNT	1731878
+SHUFFLE	COPY_MAP_DATA	115163000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5444135
+SHUFFLE	COMPRESS_BYTE_COUNT	1692631
+SHUFFLE	COPY_MAP_DATA	238729000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5498390
+SHUFFLE	COMPRESS_BYTE_COUNT	1708803
+SHUFFLE	COPY_MAP_DATA	1534814000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5495711
+SHUFFLE	COMPRESS_BYTE_COUNT	1708546
+SHUFFLE	COPY_MAP_DATA	734971000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5614224
+SHUFFLE	COMPRESS_BYTE_COUNT	1722727
+SHUFFLE	COPY_MAP_DATA	311715000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5578080
+SHUFFLE	COMPRESS_BYTE_COUNT	1711825
+SHUFFLE	COPY_MAP_DATA	948192000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5477260
+SHUFFLE	COMPRESS_BYTE_COUNT	1703390
+SHUFFLE	COPY_MAP_DATA	10714879000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5574402
+SHUFFLE	COMPRESS_BYTE_COUNT	1711459
+SHUFFLE	COPY_MAP_DATA	112373000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5568323
+SHUFFLE	COMPRESS_BYTE_COUNT	1730007
+SHUFFLE	COPY_MAP_DATA	1171592000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5562453
+SHUFFLE	COMPRESS_BYTE_COUNT	1707988
+SHUFFLE	COPY_MAP_DATA	185756000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5524252
+SHUFFLE	COMPRESS_BYTE_COUNT	1696881
+SHUFFLE	COPY_MAP_DATA	274079000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5561385
+SHUFFLE	COMPRESS_BYTE_COUNT	1708418
+SHUFFLE	COPY_MAP_DATA	130970000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5550371
+SHUFFLE	COMPRESS_BYTE_COUNT	1724594
+SHUFFLE	COPY_MAP_DATA	1898437000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5513390
+SHUFFLE	COMPRESS_BYTE_COUNT	1710265
+SHUFFLE	COPY_MAP_DATA	82375000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5480341
+SHUFFLE	COMPRESS_BYTE_COUNT	1703367
+SHUFFLE	COPY_MAP_DATA	121163000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5533289
+SHUFFLE	COMPRESS_BYTE_COUNT	1698179
+SHUFFLE	COPY_MAP_DATA	5675844000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5551277
+SHUFFLE	COMPRESS_BYTE_COUNT	1704700
+SHUFFLE	COPY_MAP_DATA	84155000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5574602
+SHUFFLE	COMPRESS_BYTE_COUNT	1710411
+SHUFFLE	COPY_MAP_DATA	82673000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5583571
+SHUFFLE	COMPRESS_BYTE_COUNT	1712813
+SHUFFLE	COPY_MAP_DATA	87798000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5568648
+SHUFFLE	COMPRESS_BYTE_COUNT	1708584
+SHUFFLE	COPY_MAP_DATA	5640232000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5616243
+SHUFFLE	COMPRESS_BYTE_COUNT	1723569
+SHUFFLE	COPY_MAP_DATA	100939000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5573378
+SHUFFLE	COMPRESS_BYTE_COUNT	1711177
+SHUFFLE	COPY_MAP_DATA	205344000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5564889
+SHUFFLE	COMPRESS_BYTE_COUNT	1707348
+SHUFFLE	COPY_MAP_DATA	340292000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5565922
+SHUFFLE	COMPRESS_BYTE_COUNT	1708612
+SHUFFLE	COPY_MAP_DATA	87800000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5559351
+SHUFFLE	COMPRESS_BYTE_COUNT	1746977
+SHUFFLE	COPY_MAP_DATA	146333000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5540065
+SHUFFLE	COMPRESS_BYTE_COUNT	1701254
+SHUFFLE	COPY_MAP_DATA	100604000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5545756
+SHUFFLE	COMPRESS_BYTE_COUNT	1702928
+SHUFFLE	COPY_MAP_DATA	89162000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5435710
+SHUFFLE	COMPRESS_BYTE_COUNT	1711200
+SHUFFLE	COPY_MAP_DATA	196659000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5589793
+SHUFFLE	COMPRESS_BYTE_COUNT	1715363
+SHUFFLE	COPY_MAP_DATA	104746000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5607038
+SHUFFLE	COMPRESS_BYTE_COUNT	1721460
+SHUFFLE	COPY_MAP_DATA	720059000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5514876
+SHUFFLE	COMPRESS_BYTE_COUNT	1692778
+SHUFFLE	COPY_MAP_DATA	137948000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5538043
+SHUFFLE	COMPRESS_BYTE_COUNT	1699507
+SHUFFLE	COPY_MAP_DATA	132317000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5545198
+SHUFFLE	COMPRESS_BYTE_COUNT	1701852
+SHUFFLE	COPY_MAP_DATA	298187000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5551791
+SHUFFLE	COMPRESS_BYTE_COUNT	1704751
+SHUFFLE	COPY_MAP_DATA	104800000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5529438
+SHUFFLE	COMPRESS_BYTE_COUNT	1697636
+SHUFFLE	COPY_MAP_DATA	146671000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5551695
+SHUFFLE	COMPRESS_BYTE_COUNT	1704279
+SHUFFLE	COPY_MAP_DATA	140729000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5588496
+SHUFFLE	COMPRESS_BYTE_COUNT	1714582
+SHUFFLE	COPY_MAP_DATA	1584161000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5576734
+SHUFFLE	COMPRESS_BYTE_COUNT	1711873
+SHUFFLE	COPY_MAP_DATA	327109000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5615788
+SHUFFLE	COMPRESS_BYTE_COUNT	1723084
+SHUFFLE	COPY_MAP_DATA	168290000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5567232
+SHUFFLE	COMPRESS_BYTE_COUNT	1709866
+SHUFFLE	COPY_MAP_DATA	194701000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5538133
+SHUFFLE	COMPRESS_BYTE_COUNT	1700225
+SHUFFLE	COPY_MAP_DATA	88400000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5420494
+SHUFFLE	COMPRESS_BYTE_COUNT	1707502
+SHUFFLE	COPY_MAP_DATA	132926000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5541647
+SHUFFLE	COMPRESS_BYTE_COUNT	1699884
+SHUFFLE	COPY_MAP_DATA	86499000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5526780
+SHUFFLE	COMPRESS_BYTE_COUNT	1697060
+SHUFFLE	COPY_MAP_DATA	141438000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5572348
+SHUFFLE	COMPRESS_BYTE_COUNT	1710183
+SHUFFLE	COPY_MAP_DATA	159922000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5512408
+SHUFFLE	COMPRESS_BYTE_COUNT	1691683
+SHUFFLE	COPY_MAP_DATA	796131000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5557431
+SHUFFLE	COMPRESS_BYTE_COUNT	1705918
+SHUFFLE	COPY_MAP_DATA	4041222000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5581234
+SHUFFLE	COMPRESS_BYTE_COUNT	1714089
+SHUFFLE	COPY_MAP_DATA	729252000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5545539
+SHUFFLE	COMPRESS_BYTE_COUNT	1701833
+SHUFFLE	COPY_MAP_DATA	91493000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5568492
+SHUFFLE	COMPRESS_BYTE_COUNT	1709501
+SHUFFLE	COPY_MAP_DATA	98363000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5515355
+SHUFFLE	COMPRESS_BYTE_COUNT	1692871
+SHUFFLE	COPY_MAP_DATA	89101000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5581656
+SHUFFLE	COMPRESS_BYTE_COUNT	1712274
+SHUFFLE	COPY_MAP_DATA	89869000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5513127
+SHUFFLE	COMPRESS_BYTE_COUNT	1691769
+SHUFFLE	COPY_MAP_DATA	132541000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5525864
+SHUFFLE	COMPRESS_BYTE_COUNT	1696348
+SHUFFLE	COPY_MAP_DATA	1405631000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5483442
+SHUFFLE	COMPRESS_BYTE_COUNT	1704810
+SHUFFLE	COPY_MAP_DATA	119029000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5561288
+SHUFFLE	COMPRESS_BYTE_COUNT	1707442
+SHUFFLE	COPY_MAP_DATA	1262798000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5557767
+SHUFFLE	COMPRESS_BYTE_COUNT	1706567
+SHUFFLE	COPY_MAP_DATA	95096000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5502407
+SHUFFLE	COMPRESS_BYTE_COUNT	1688671
+SHUFFLE	COPY_MAP_DATA	124504000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5570896
+SHUFFLE	COMPRESS_BYTE_COUNT	1711008
+SHUFFLE	COPY_MAP_DATA	1312149000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5503704
+SHUFFLE	COMPRESS_BYTE_COUNT	1711443
+SHUFFLE	COPY_MAP_DATA	87756000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5566818
+SHUFFLE	COMPRESS_BYTE_COUNT	1708536
+SHUFFLE	COPY_MAP_DATA	99577000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5556409
+SHUFFLE	COMPRESS_BYTE_COUNT	1704894
+SHUFFLE	COPY_MAP_DATA	1840858000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5528574
+SHUFFLE	COMPRESS_BYTE_COUNT	1697431
+SHUFFLE	COPY_MAP_DATA	823694000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5559072
+SHUFFLE	COMPRESS_BYTE_COUNT	1706368
+SHUFFLE	COPY_MAP_DATA	323236000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5581055
+SHUFFLE	COMPRESS_BYTE_COUNT	1713291
+SHUFFLE	COPY_MAP_DATA	2091175000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5484019
+SHUFFLE	COMPRESS_BYTE_COUNT	1704610
+SHUFFLE	COPY_MAP_DATA	107408000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5508604
+SHUFFLE	COMPRESS_BYTE_COUNT	1691216
+SHUFFLE	COPY_MAP_DATA	82402000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5572913
+SHUFFLE	COMPRESS_BYTE_COUNT	1710892
+SHUFFLE	COPY_MAP_DATA	84109000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5505220
+SHUFFLE	COMPRESS_BYTE_COUNT	1712365
+SHUFFLE	COPY_MAP_DATA	382209000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5581783
+SHUFFLE	COMPRESS_BYTE_COUNT	1713669
+SHUFFLE	COPY_MAP_DATA	207404000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5537784
+SHUFFLE	COMPRESS_BYTE_COUNT	1721358
+SHUFFLE	COPY_MAP_DATA	92363000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5487429
+SHUFFLE	COMPRESS_BYTE_COUNT	1706459
+SHUFFLE	COPY_MAP_DATA	83385000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5555949
+SHUFFLE	COMPRESS_BYTE_COUNT	1705120
+SHUFFLE	COPY_MAP_DATA	2760703000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5549927
+SHUFFLE	COMPRESS_BYTE_COUNT	1724036
+SHUFFLE	COPY_MAP_DATA	119279000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5570816
+SHUFFLE	COMPRESS_BYTE_COUNT	1709631
+SHUFFLE	COPY_MAP_DATA	566530000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5538529
+SHUFFLE	COMPRESS_BYTE_COUNT	1700364
+SHUFFLE	COPY_MAP_DATA	123664000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5501881
+SHUFFLE	COMPRESS_BYTE_COUNT	1689282
+SHUFFLE	COPY_MAP_DATA	195710000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5533185
+SHUFFLE	COMPRESS_BYTE_COUNT	1718380
+SHUFFLE	COPY_MAP_DATA	109683000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5577292
+SHUFFLE	COMPRESS_BYTE_COUNT	1733737
+SHUFFLE	COPY_MAP_DATA	743337000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5489437
+SHUFFLE	COMPRESS_BYTE_COUNT	1685674
+SHUFFLE	COPY_MAP_DATA	82342000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5503869
+SHUFFLE	COMPRESS_BYTE_COUNT	1711111
+SHUFFLE	COPY_MAP_DATA	985274000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5509628
+SHUFFLE	COMPRESS_BYTE_COUNT	1712237
+SHUFFLE	COPY_MAP_DATA	84055000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5559696
+SHUFFLE	COMPRESS_BYTE_COUNT	1706615
+SHUFFLE	COPY_MAP_DATA	84557000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5506016
+SHUFFLE	COMPRESS_BYTE_COUNT	1710663
+SHUFFLE	COPY_MAP_DATA	91385000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5530627
+SHUFFLE	COMPRESS_BYTE_COUNT	1718516
+SHUFFLE	COPY_MAP_DATA	104410000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5542621
+SHUFFLE	COMPRESS_BYTE_COUNT	1722117
+SHUFFLE	COPY_MAP_DATA	262243000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5474895
+SHUFFLE	COMPRESS_BYTE_COUNT	1701319
+SHUFFLE	COPY_MAP_DATA	117901000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5487498
+SHUFFLE	COMPRESS_BYTE_COUNT	1705963
+SHUFFLE	COPY_MAP_DATA	190014000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5466601
+SHUFFLE	COMPRESS_BYTE_COUNT	1700380
+SHUFFLE	COPY_MAP_DATA	3113584000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5519959
+SHUFFLE	COMPRESS_BYTE_COUNT	1716452
+SHUFFLE	COPY_MAP_DATA	698984000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5537833
+SHUFFLE	COMPRESS_BYTE_COUNT	1700425
+SHUFFLE	COPY_MAP_DATA	480583000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5504236
+SHUFFLE	COMPRESS_BYTE_COUNT	1711114
+SHUFFLE	COPY_MAP_DATA	353096000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5513785
+SHUFFLE	COMPRESS_BYTE_COUNT	1714405
+SHUFFLE	COPY_MAP_DATA	113277000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5521946
+SHUFFLE	COMPRESS_BYTE_COUNT	1716940
+SHUFFLE	COPY_MAP_DATA	244051000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5444571
+SHUFFLE	COMPRESS_BYTE_COUNT	1691312
+SHUFFLE	COPY_MAP_DATA	364477000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5514134
+SHUFFLE	COMPRESS_BYTE_COUNT	1715036
+SHUFFLE	COPY_MAP_DATA	90748000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5562170
+SHUFFLE	COMPRESS_BYTE_COUNT	1732211
+SHUFFLE	COPY_MAP_DATA	272841000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5501376
+SHUFFLE	COMPRESS_BYTE_COUNT	1709720
+SHUFFLE	COPY_MAP_DATA	500834000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5546516
+SHUFFLE	COMPRESS_BYTE_COUNT	1723386
+SHUFFLE	COPY_MAP_DATA	111881000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5528920
+SHUFFLE	COMPRESS_BYTE_COUNT	1716833
+SHUFFLE	COPY_MAP_DATA	114888000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5528487
+SHUFFLE	COMPRESS_BYTE_COUNT	1717763
+SHUFFLE	COPY_MAP_DATA	90391000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5471832
+SHUFFLE	COMPRESS_BYTE_COUNT	1700656
+SHUFFLE	COPY_MAP_DATA	88418000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5548202
+SHUFFLE	COMPRESS_BYTE_COUNT	1729609
+SHUFFLE	COPY_MAP_DATA	328789000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5520951
+SHUFFLE	COMPRESS_BYTE_COUNT	1716187
+SHUFFLE	COPY_MAP_DATA	284847000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5517848
+SHUFFLE	COMPRESS_BYTE_COUNT	1715253
+SHUFFLE	COPY_MAP_DATA	302841000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5495972
+SHUFFLE	COMPRESS_BYTE_COUNT	1708987
+SHUFFLE	COPY_MAP_DATA	299820000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5524867
+SHUFFLE	COMPRESS_BYTE_COUNT	1716937
+SHUFFLE	COPY_MAP_DATA	158326000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5558068
+SHUFFLE	COMPRESS_BYTE_COUNT	1731218
+SHUFFLE	COPY_MAP_DATA	133764000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5569751
+SHUFFLE	COMPRESS_BYTE_COUNT	1735224
+SHUFFLE	COPY_MAP_DATA	468891000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5485700
+SHUFFLE	COMPRESS_BYTE_COUNT	1705096
+SHUFFLE	COPY_MAP_DATA	260055000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5554632
+SHUFFLE	COMPRESS_BYTE_COUNT	1729934
+SHUFFLE	COPY_MAP_DATA	130973000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5517711
+SHUFFLE	COMPRESS_BYTE_COUNT	1735259
+SHUFFLE	COPY_MAP_DATA	187416000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5551957
+SHUFFLE	COMPRESS_BYTE_COUNT	1725615
+SHUFFLE	COPY_MAP_DATA	763196000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5475414
+SHUFFLE	COMPRESS_BYTE_COUNT	1703094
+SHUFFLE	COPY_MAP_DATA	7926520000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5561545
+SHUFFLE	COMPRESS_BYTE_COUNT	1732148
+SHUFFLE	COPY_MAP_DATA	137394000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5547398
+SHUFFLE	COMPRESS_BYTE_COUNT	1728357
+SHUFFLE	COPY_MAP_DATA	173761000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5576475
+SHUFFLE	COMPRESS_BYTE_COUNT	1720964
+SHUFFLE	COPY_MAP_DATA	127094000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5597757
+SHUFFLE	COMPRESS_BYTE_COUNT	1727783
+SHUFFLE	COPY_MAP_DATA	271932000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5517042
+SHUFFLE	COMPRESS_BYTE_COUNT	1748796
+SHUFFLE	COPY_MAP_DATA	92846000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4736021
+SHUFFLE	COMPRESS_BYTE_COUNT	1454683
+SHUFFLE	COPY_MAP_DATA	449163000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4725401
+SHUFFLE	COMPRESS_BYTE_COUNT	1449891
+SHUFFLE	COPY_MAP_DATA	1698419000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4455318
+SHUFFLE	COMPRESS_BYTE_COUNT	1384913
+SHUFFLE	COPY_MAP_DATA	294880000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5579940
+SHUFFLE	COMPRESS_BYTE_COUNT	1723690
+SHUFFLE	COPY_MAP_DATA	90904000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5584519
+SHUFFLE	COMPRESS_BYTE_COUNT	1724384
+SHUFFLE	COPY_MAP_DATA	1303362000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4724489
+SHUFFLE	COMPRESS_BYTE_COUNT	1451129
+SHUFFLE	COPY_MAP_DATA	78752000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5606884
+SHUFFLE	COMPRESS_BYTE_COUNT	1730377
+SHUFFLE	COPY_MAP_DATA	85457000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4760266
+SHUFFLE	COMPRESS_BYTE_COUNT	1461150
+SHUFFLE	COPY_MAP_DATA	79650000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5605732
+SHUFFLE	COMPRESS_BYTE_COUNT	1730406
+SHUFFLE	COPY_MAP_DATA	92300000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5587063
+SHUFFLE	COMPRESS_BYTE_COUNT	1725013
+SHUFFLE	COPY_MAP_DATA	1466782000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5600869
+SHUFFLE	COMPRESS_BYTE_COUNT	1728718
+SHUFFLE	COPY_MAP_DATA	91123000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4419005
+SHUFFLE	COMPRESS_BYTE_COUNT	1373327
+SHUFFLE	COPY_MAP_DATA	350809000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5558324
+SHUFFLE	COMPRESS_BYTE_COUNT	1731688
+SHUFFLE	COPY_MAP_DATA	129775000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5595867
+SHUFFLE	COMPRESS_BYTE_COUNT	1726607
+SHUFFLE	COPY_MAP_DATA	89455000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5598680
+SHUFFLE	COMPRESS_BYTE_COUNT	1727149
+SHUFFLE	COPY_MAP_DATA	290545000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5590217
+SHUFFLE	COMPRESS_BYTE_COUNT	1725149
+SHUFFLE	COPY_MAP_DATA	956903000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4744252
+SHUFFLE	COMPRESS_BYTE_COUNT	1455523
+SHUFFLE	COPY_MAP_DATA	531309000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4762513
+SHUFFLE	COMPRESS_BYTE_COUNT	1462022
+SHUFFLE	COPY_MAP_DATA	162177000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5602081
+SHUFFLE	COMPRESS_BYTE_COUNT	1728926
+SHUFFLE	COPY_MAP_DATA	236343000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4750223
+SHUFFLE	COMPRESS_BYTE_COUNT	1456967
+SHUFFLE	COPY_MAP_DATA	91588000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5534287
+SHUFFLE	COMPRESS_BYTE_COUNT	1725303
+SHUFFLE	COPY_MAP_DATA	89422000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5550865
+SHUFFLE	COMPRESS_BYTE_COUNT	1728914
+SHUFFLE	COPY_MAP_DATA	84336000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5558151
+SHUFFLE	COMPRESS_BYTE_COUNT	1730969
+SHUFFLE	COPY_MAP_DATA	1158370000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1737283
+SHUFFLE	COMPRESS_BYTE_COUNT	537095
+SHUFFLE	COPY_MAP_DATA	82820000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5555636
+SHUFFLE	COMPRESS_BYTE_COUNT	1730892
+SHUFFLE	COPY_MAP_DATA	864388000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5541397
+SHUFFLE	COMPRESS_BYTE_COUNT	1725736
+SHUFFLE	COPY_MAP_DATA	138734000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4645386
+SHUFFLE	COMPRESS_BYTE_COUNT	1427585
+SHUFFLE	COPY_MAP_DATA	124731000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4693492
+SHUFFLE	COMPRESS_BYTE_COUNT	1441240
+SHUFFLE	COPY_MAP_DATA	113814000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5559372
+SHUFFLE	COMPRESS_BYTE_COUNT	1730566
+SHUFFLE	COPY_MAP_DATA	2432910000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4446548
+SHUFFLE	COMPRESS_BYTE_COUNT	1383056
+SHUFFLE	COPY_MAP_DATA	74452000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4453309
+SHUFFLE	COMPRESS_BYTE_COUNT	1383779
+SHUFFLE	COPY_MAP_DATA	72520000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4423861
+SHUFFLE	COMPRESS_BYTE_COUNT	1375184
+SHUFFLE	COPY_MAP_DATA	207714000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4436064
+SHUFFLE	COMPRESS_BYTE_COUNT	1379033
+SHUFFLE	COPY_MAP_DATA	70811000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4220836
+SHUFFLE	COMPRESS_BYTE_COUNT	1312599
+SHUFFLE	COPY_MAP_DATA	201525000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5589853
+SHUFFLE	COMPRESS_BYTE_COUNT	1726484
+SHUFFLE	COPY_MAP_DATA	7386173000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1737052
+SHUFFLE	COMPRESS_BYTE_COUNT	537316
+SHUFFLE	COPY_MAP_DATA	10186822000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1734079
+SHUFFLE	COMPRESS_BYTE_COUNT	536451
+SHUFFLE	COPY_MAP_DATA	38334000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1731411
+SHUFFLE	COMPRESS_BYTE_COUNT	535096
+SHUFFLE	COPY_MAP_DATA	186534000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1666632
+SHUFFLE	COMPRESS_BYTE_COUNT	520187
+SHUFFLE	COPY_MAP_DATA	26835000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4729679
+SHUFFLE	COMPRESS_BYTE_COUNT	1451996
+SHUFFLE	COPY_MAP_DATA	480759000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1746192
+SHUFFLE	COMPRESS_BYTE_COUNT	540076
+SHUFFLE	COPY_MAP_DATA	625686000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1732973
+SHUFFLE	COMPRESS_BYTE_COUNT	535847
+SHUFFLE	COPY_MAP_DATA	95684000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1669987
+SHUFFLE	COMPRESS_BYTE_COUNT	521425
+SHUFFLE	COPY_MAP_DATA	167563000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1733046
+SHUFFLE	COMPRESS_BYTE_COUNT	536077
+SHUFFLE	COPY_MAP_DATA	34424000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5553423
+SHUFFLE	COMPRESS_BYTE_COUNT	1731416
+SHUFFLE	COPY_MAP_DATA	91198000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4481159
+SHUFFLE	COMPRESS_BYTE_COUNT	1392922
+SHUFFLE	COPY_MAP_DATA	2098396000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1735873
+SHUFFLE	COMPRESS_BYTE_COUNT	537093
+SHUFFLE	COPY_MAP_DATA	96164000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1733494
+SHUFFLE	COMPRESS_BYTE_COUNT	536457
+SHUFFLE	COPY_MAP_DATA	55599000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1669633
+SHUFFLE	COMPRESS_BYTE_COUNT	520381
+SHUFFLE	COPY_MAP_DATA	76541000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1666591
+SHUFFLE	COMPRESS_BYTE_COUNT	519684
+SHUFFLE	COPY_MAP_DATA	713034000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1668153
+SHUFFLE	COMPRESS_BYTE_COUNT	519519
+SHUFFLE	COPY_MAP_DATA	43210000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4486397
+SHUFFLE	COMPRESS_BYTE_COUNT	1394131
+SHUFFLE	COPY_MAP_DATA	1005517000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1661474
+SHUFFLE	COMPRESS_BYTE_COUNT	518570
+SHUFFLE	COPY_MAP_DATA	25884000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4503516
+SHUFFLE	COMPRESS_BYTE_COUNT	1399593
+SHUFFLE	COPY_MAP_DATA	119631000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4751357
+SHUFFLE	COMPRESS_BYTE_COUNT	1458718
+SHUFFLE	COPY_MAP_DATA	388253000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1671233
+SHUFFLE	COMPRESS_BYTE_COUNT	521404
+SHUFFLE	COPY_MAP_DATA	26883000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4711066
+SHUFFLE	COMPRESS_BYTE_COUNT	1446138
+SHUFFLE	COPY_MAP_DATA	87099000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4574794
+SHUFFLE	COMPRESS_BYTE_COUNT	1404017
+SHUFFLE	COPY_MAP_DATA	913452000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4416564
+SHUFFLE	COMPRESS_BYTE_COUNT	1372506
+SHUFFLE	COPY_MAP_DATA	70414000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4448034
+SHUFFLE	COMPRESS_BYTE_COUNT	1382568
+SHUFFLE	COPY_MAP_DATA	122140000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4710524
+SHUFFLE	COMPRESS_BYTE_COUNT	1445945
+SHUFFLE	COPY_MAP_DATA	319275000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1740267
+SHUFFLE	COMPRESS_BYTE_COUNT	538364
+SHUFFLE	COPY_MAP_DATA	277680000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1744611
+SHUFFLE	COMPRESS_BYTE_COUNT	539909
+SHUFFLE	COPY_MAP_DATA	226407000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4374742
+SHUFFLE	COMPRESS_BYTE_COUNT	1361395
+SHUFFLE	COPY_MAP_DATA	75751000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4173803
+SHUFFLE	COMPRESS_BYTE_COUNT	1314829
+SHUFFLE	COPY_MAP_DATA	163970000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4426585
+SHUFFLE	COMPRESS_BYTE_COUNT	1375528
+SHUFFLE	COPY_MAP_DATA	129462000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1661737
+SHUFFLE	COMPRESS_BYTE_COUNT	518760
+SHUFFLE	COPY_MAP_DATA	456860000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1746932
+SHUFFLE	COMPRESS_BYTE_COUNT	539938
+SHUFFLE	COPY_MAP_DATA	26600000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1667302
+SHUFFLE	COMPRESS_BYTE_COUNT	519768
+SHUFFLE	COPY_MAP_DATA	25848000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1658557
+SHUFFLE	COMPRESS_BYTE_COUNT	517353
+SHUFFLE	COPY_MAP_DATA	25869000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1580805
+SHUFFLE	COMPRESS_BYTE_COUNT	499712
+SHUFFLE	COPY_MAP_DATA	25642000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1738599
+SHUFFLE	COMPRESS_BYTE_COUNT	537488
+SHUFFLE	COPY_MAP_DATA	390968000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1661262
+SHUFFLE	COMPRESS_BYTE_COUNT	518537
+SHUFFLE	COPY_MAP_DATA	81752000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1659293
+SHUFFLE	COMPRESS_BYTE_COUNT	517956
+SHUFFLE	COPY_MAP_DATA	91406000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1702151
+SHUFFLE	COMPRESS_BYTE_COUNT	526363
+SHUFFLE	COPY_MAP_DATA	28085000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1628270
+SHUFFLE	COMPRESS_BYTE_COUNT	508197
+SHUFFLE	COPY_MAP_DATA	26519000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1660774
+SHUFFLE	COMPRESS_BYTE_COUNT	518100
+SHUFFLE	COPY_MAP_DATA	26945000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4440333
+SHUFFLE	COMPRESS_BYTE_COUNT	1381170
+SHUFFLE	COPY_MAP_DATA	67598000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1667146
+SHUFFLE	COMPRESS_BYTE_COUNT	520607
+SHUFFLE	COPY_MAP_DATA	26590000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	469914045000
+MERGE	READ_WRITE	454794424000
+MERGE	READ_WRITE_COUNT	8
+MERGE	COMBINE	0
+MERGE	WRITE	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	7588162000
+SORT	READ_WRITE	7518585000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	212962584
+REDUCE	SETUP	406000
+REDUCE	SETUP_MEM	212962584
+REDUCE	CLEANUP	67000
+REDUCE	CLEANUP_MEM	217939432
+REDUCE	TOTAL_RUN	437780567432
+REDUCE	READ	7697926000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	421233813432
+REDUCE	WRITE	227144636432
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	55878703
+REDUCE	VALUE_BYTE_COUNT	1647631061
+REDUCE	REDUCE_MEM	217941480
+REDUCE	WRITE	119428000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	1116040997432
@@ -0,0 +1,989 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5467484
+SHUFFLE	COMPRESS_BYTE_COUNT	1699606
+SHUFFLE	COPY_MAP_DATA	189416000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5497913
+SHUFFLE	COMPRESS_BYTE_COUNT	1709079
+SHUFFLE	COPY_MAP_DATA	131981000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5474724
+SHUFFLE	COMPRESS_BYTE_COUNT	1724089
+SHUFFLE	COPY_MAP_DATA	302741000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5462668
+SHUFFLE	COMPRESS_BYTE_COUNT	1720644
+SHUFFLE	COPY_MAP_DATA	110256000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5529971
+SHUFFLE	COMPRESS_BYTE_COUNT	1718196
+SHUFFLE	COPY_MAP_DATA	227444000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5543057
+SHUFFLE	COMPRESS_BYTE_COUNT	1724370
+SHUFFLE	COPY_MAP_DATA	115225000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5539117
+SHUFFLE	COMPRESS_BYTE_COUNT	1721518
+SHUFFLE	COPY_MAP_DATA	958659000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5452175
+SHUFFLE	COMPRESS_BYTE_COUNT	1695676
+SHUFFLE	COPY_MAP_DATA	245363000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5487120
+SHUFFLE	COMPRESS_BYTE_COUNT	1706508
+SHUFFLE	COPY_MAP_DATA	298084000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5550868
+SHUFFLE	COMPRESS_BYTE_COUNT	1725763
+SHUFFLE	COPY_MAP_DATA	91049000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5557037
+SHUFFLE	COMPRESS_BYTE_COUNT	1728595
+SHUFFLE	COPY_MAP_DATA	142547000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5554769
+SHUFFLE	COMPRESS_BYTE_COUNT	1705216
+SHUFFLE	COPY_MAP_DATA	156394000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5530348
+SHUFFLE	COMPRESS_BYTE_COUNT	1718436
+SHUFFLE	COPY_MAP_DATA	167274000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5506017
+SHUFFLE	COMPRESS_BYTE_COUNT	1711304
+SHUFFLE	COPY_MAP_DATA	211481000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5536216
+SHUFFLE	COMPRESS_BYTE_COUNT	1720460
+SHUFFLE	COPY_MAP_DATA	425613000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5512915
+SHUFFLE	COMPRESS_BYTE_COUNT	1714144
+SHUFFLE	COPY_MAP_DATA	85305000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5562349
+SHUFFLE	COMPRESS_BYTE_COUNT	1729360
+SHUFFLE	COPY_MAP_DATA	111501000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5527928
+SHUFFLE	COMPRESS_BYTE_COUNT	1718944
+SHUFFLE	COPY_MAP_DATA	84792000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5542612
+SHUFFLE	COMPRESS_BYTE_COUNT	1722532
+SHUFFLE	COPY_MAP_DATA	159461000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5553293
+SHUFFLE	COMPRESS_BYTE_COUNT	1727362
+SHUFFLE	COPY_MAP_DATA	98902000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5501207
+SHUFFLE	COMPRESS_BYTE_COUNT	1710221
+SHUFFLE	COPY_MAP_DATA	205483000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5505790
+SHUFFLE	COMPRESS_BYTE_COUNT	1711786
+SHUFFLE	COPY_MAP_DATA	88563000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5488167
+SHUFFLE	COMPRESS_BYTE_COUNT	1705547
+SHUFFLE	COPY_MAP_DATA	113401000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5516219
+SHUFFLE	COMPRESS_BYTE_COUNT	1714899
+SHUFFLE	COPY_MAP_DATA	91811000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5554275
+SHUFFLE	COMPRESS_BYTE_COUNT	1726548
+SHUFFLE	COPY_MAP_DATA	118593000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5546509
+SHUFFLE	COMPRESS_BYTE_COUNT	1723978
+SHUFFLE	COPY_MAP_DATA	348140000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5474816
+SHUFFLE	COMPRESS_BYTE_COUNT	1724919
+SHUFFLE	COPY_MAP_DATA	703565000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5503558
+SHUFFLE	COMPRESS_BYTE_COUNT	1711294
+SHUFFLE	COPY_MAP_DATA	538551000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5502322
+SHUFFLE	COMPRESS_BYTE_COUNT	1731492
+SHUFFLE	COPY_MAP_DATA	549034000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5411973
+SHUFFLE	COMPRESS_BYTE_COUNT	1731510
+SHUFFLE	COPY_MAP_DATA	251477000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5516415
+SHUFFLE	COMPRESS_BYTE_COUNT	1713254
+SHUFFLE	COPY_MAP_DATA	100689000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5570813
+SHUFFLE	COMPRESS_BYTE_COUNT	1709343
+SHUFFLE	COPY_MAP_DATA	88675000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5544093
+SHUFFLE	COMPRESS_BYTE_COUNT	1722954
+SHUFFLE	COPY_MAP_DATA	245388000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5549448
+SHUFFLE	COMPRESS_BYTE_COUNT	1724931
+SHUFFLE	COPY_MAP_DATA	89829000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5523930
+SHUFFLE	COMPRESS_BYTE_COUNT	1695649
+SHUFFLE	COPY_MAP_DATA	86968000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5565051
+SHUFFLE	COMPRESS_BYTE_COUNT	1708187
+SHUFFLE	COPY_MAP_DATA	574043000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5458645
+SHUFFLE	COMPRESS_BYTE_COUNT	1697106
+SHUFFLE	COPY_MAP_DATA	86866000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5538909
+SHUFFLE	COMPRESS_BYTE_COUNT	1720107
+SHUFFLE	COPY_MAP_DATA	86595000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5453513
+SHUFFLE	COMPRESS_BYTE_COUNT	1694179
+SHUFFLE	COPY_MAP_DATA	1136093000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5532865
+SHUFFLE	COMPRESS_BYTE_COUNT	1719492
+SHUFFLE	COPY_MAP_DATA	100542000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5556029
+SHUFFLE	COMPRESS_BYTE_COUNT	1705406
+SHUFFLE	COPY_MAP_DATA	115381000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5527254
+SHUFFLE	COMPRESS_BYTE_COUNT	1696134
+SHUFFLE	COPY_MAP_DATA	509838000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5487908
+SHUFFLE	COMPRESS_BYTE_COUNT	1704967
+SHUFFLE	COPY_MAP_DATA	893604000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5527447
+SHUFFLE	COMPRESS_BYTE_COUNT	1717893
+SHUFFLE	COPY_MAP_DATA	92836000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5512557
+SHUFFLE	COMPRESS_BYTE_COUNT	1712956
+SHUFFLE	COPY_MAP_DATA	2940906000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5485217
+SHUFFLE	COMPRESS_BYTE_COUNT	1727374
+SHUFFLE	COPY_MAP_DATA	151865000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5498918
+SHUFFLE	COMPRESS_BYTE_COUNT	1708717
+SHUFFLE	COPY_MAP_DATA	8734668000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5580691
+SHUFFLE	COMPRESS_BYTE_COUNT	1713540
+SHUFFLE	COPY_MAP_DATA	86174000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5514275
+SHUFFLE	COMPRESS_BYTE_COUNT	1713077
+SHUFFLE	COPY_MAP_DATA	85374000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5497048
+SHUFFLE	COMPRESS_BYTE_COUNT	1687786
+SHUFFLE	COPY_MAP_DATA	89817000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5490463
+SHUFFLE	COMPRESS_BYTE_COUNT	1686387
+SHUFFLE	COPY_MAP_DATA	96206000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5525617
+SHUFFLE	COMPRESS_BYTE_COUNT	1718012
+SHUFFLE	COPY_MAP_DATA	1582879000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5575923
+SHUFFLE	COMPRESS_BYTE_COUNT	1711720
+SHUFFLE	COPY_MAP_DATA	156131000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5547041
+SHUFFLE	COMPRESS_BYTE_COUNT	1723892
+SHUFFLE	COPY_MAP_DATA	595619000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5550203
+SHUFFLE	COMPRESS_BYTE_COUNT	1703561
+SHUFFLE	COPY_MAP_DATA	161386000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5501180
+SHUFFLE	COMPRESS_BYTE_COUNT	1707468
+SHUFFLE	COPY_MAP_DATA	81165000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5513067
+SHUFFLE	COMPRESS_BYTE_COUNT	1692456
+SHUFFLE	COPY_MAP_DATA	93989000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5527913
+SHUFFLE	COMPRESS_BYTE_COUNT	1718056
+SHUFFLE	COPY_MAP_DATA	412343000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5548222
+SHUFFLE	COMPRESS_BYTE_COUNT	1703720
+SHUFFLE	COPY_MAP_DATA	669004000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5541390
+SHUFFLE	COMPRESS_BYTE_COUNT	1701237
+SHUFFLE	COPY_MAP_DATA	104461000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5536112
+SHUFFLE	COMPRESS_BYTE_COUNT	1699782
+SHUFFLE	COPY_MAP_DATA	82669000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5573412
+SHUFFLE	COMPRESS_BYTE_COUNT	1711289
+SHUFFLE	COPY_MAP_DATA	5949327000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5594847
+SHUFFLE	COMPRESS_BYTE_COUNT	1716441
+SHUFFLE	COPY_MAP_DATA	98209000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5616137
+SHUFFLE	COMPRESS_BYTE_COUNT	1722013
+SHUFFLE	COPY_MAP_DATA	88464000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5480125
+SHUFFLE	COMPRESS_BYTE_COUNT	1682292
+SHUFFLE	COPY_MAP_DATA	184459000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5555244
+SHUFFLE	COMPRESS_BYTE_COUNT	1706588
+SHUFFLE	COPY_MAP_DATA	95902000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5577773
+SHUFFLE	COMPRESS_BYTE_COUNT	1712576
+SHUFFLE	COPY_MAP_DATA	175513000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5493376
+SHUFFLE	COMPRESS_BYTE_COUNT	1728994
+SHUFFLE	COPY_MAP_DATA	180252000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5495148
+SHUFFLE	COMPRESS_BYTE_COUNT	1726127
+SHUFFLE	COPY_MAP_DATA	214260000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5572201
+SHUFFLE	COMPRESS_BYTE_COUNT	1710097
+SHUFFLE	COPY_MAP_DATA	119011000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5531386
+SHUFFLE	COMPRESS_BYTE_COUNT	1698266
+SHUFFLE	COPY_MAP_DATA	82229000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5565374
+SHUFFLE	COMPRESS_BYTE_COUNT	1708742
+SHUFFLE	COPY_MAP_DATA	950245000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5499750
+SHUFFLE	COMPRESS_BYTE_COUNT	1688580
+SHUFFLE	COPY_MAP_DATA	605736000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5501041
+SHUFFLE	COMPRESS_BYTE_COUNT	1688252
+SHUFFLE	COPY_MAP_DATA	407708000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5511066
+SHUFFLE	COMPRESS_BYTE_COUNT	1691224
+SHUFFLE	COPY_MAP_DATA	206481000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5554043
+SHUFFLE	COMPRESS_BYTE_COUNT	1704665
+SHUFFLE	COPY_MAP_DATA	86734000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5543020
+SHUFFLE	COMPRESS_BYTE_COUNT	1700535
+SHUFFLE	COPY_MAP_DATA	113069000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5572594
+SHUFFLE	COMPRESS_BYTE_COUNT	1710466
+SHUFFLE	COPY_MAP_DATA	127713000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5614105
+SHUFFLE	COMPRESS_BYTE_COUNT	1722491
+SHUFFLE	COPY_MAP_DATA	1971439000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5614832
+SHUFFLE	COMPRESS_BYTE_COUNT	1722597
+SHUFFLE	COPY_MAP_DATA	311247000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5518842
+SHUFFLE	COMPRESS_BYTE_COUNT	1693840
+SHUFFLE	COPY_MAP_DATA	243692000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5579904
+SHUFFLE	COMPRESS_BYTE_COUNT	1712779
+SHUFFLE	COPY_MAP_DATA	159846000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5459117
+SHUFFLE	COMPRESS_BYTE_COUNT	1720048
+SHUFFLE	COPY_MAP_DATA	133051000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5517996
+SHUFFLE	COMPRESS_BYTE_COUNT	1694032
+SHUFFLE	COPY_MAP_DATA	527178000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5535230
+SHUFFLE	COMPRESS_BYTE_COUNT	1700555
+SHUFFLE	COPY_MAP_DATA	492130000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5558301
+SHUFFLE	COMPRESS_BYTE_COUNT	1707123
+SHUFFLE	COPY_MAP_DATA	82694000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5528422
+SHUFFLE	COMPRESS_BYTE_COUNT	1695970
+SHUFFLE	COPY_MAP_DATA	106557000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5474035
+SHUFFLE	COMPRESS_BYTE_COUNT	1681662
+SHUFFLE	COPY_MAP_DATA	975396000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5542108
+SHUFFLE	COMPRESS_BYTE_COUNT	1701716
+SHUFFLE	COPY_MAP_DATA	134224000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5596353
+SHUFFLE	COMPRESS_BYTE_COUNT	1718785
+SHUFFLE	COPY_MAP_DATA	110509000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5561165
+SHUFFLE	COMPRESS_BYTE_COUNT	1707839
+SHUFFLE	COPY_MAP_DATA	99059000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5557673
+SHUFFLE	COMPRESS_BYTE_COUNT	1706552
+SHUFFLE	COPY_MAP_DATA	88926000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5527390
+SHUFFLE	COMPRESS_BYTE_COUNT	1696748
+SHUFFLE	COPY_MAP_DATA	105708000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5559554
+SHUFFLE	COMPRESS_BYTE_COUNT	1705762
+SHUFFLE	COPY_MAP_DATA	114566000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5522793
+SHUFFLE	COMPRESS_BYTE_COUNT	1695659
+SHUFFLE	COPY_MAP_DATA	88770000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5591163
+SHUFFLE	COMPRESS_BYTE_COUNT	1715074
+SHUFFLE	COPY_MAP_DATA	109297000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5500613
+SHUFFLE	COMPRESS_BYTE_COUNT	1710318
+SHUFFLE	COPY_MAP_DATA	140226000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5497282
+SHUFFLE	COMPRESS_BYTE_COUNT	1687777
+SHUFFLE	COPY_MAP_DATA	338221000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5541504
+SHUFFLE	COMPRESS_BYTE_COUNT	1701625
+SHUFFLE	COPY_MAP_DATA	1087852000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5508171
+SHUFFLE	COMPRESS_BYTE_COUNT	1712204
+SHUFFLE	COPY_MAP_DATA	78432000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5547236
+SHUFFLE	COMPRESS_BYTE_COUNT	1702630
+SHUFFLE	COPY_MAP_DATA	148466000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5536818
+SHUFFLE	COMPRESS_BYTE_COUNT	1698927
+SHUFFLE	COPY_MAP_DATA	103173000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5500178
+SHUFFLE	COMPRESS_BYTE_COUNT	1688011
+SHUFFLE	COPY_MAP_DATA	98263000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5566826
+SHUFFLE	COMPRESS_BYTE_COUNT	1708306
+SHUFFLE	COPY_MAP_DATA	99622000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5563644
+SHUFFLE	COMPRESS_BYTE_COUNT	1707945
+SHUFFLE	COPY_MAP_DATA	729810000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5478520
+SHUFFLE	COMPRESS_BYTE_COUNT	1704064
+SHUFFLE	COPY_MAP_DATA	7377563000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5530736
+SHUFFLE	COMPRESS_BYTE_COUNT	1696964
+SHUFFLE	COPY_MAP_DATA	90315000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5589269
+SHUFFLE	COMPRESS_BYTE_COUNT	1716531
+SHUFFLE	COPY_MAP_DATA	124299000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5549115
+SHUFFLE	COMPRESS_BYTE_COUNT	1703011
+SHUFFLE	COPY_MAP_DATA	403060000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5549332
+SHUFFLE	COMPRESS_BYTE_COUNT	1703289
+SHUFFLE	COPY_MAP_DATA	81300000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5551436
+SHUFFLE	COMPRESS_BYTE_COUNT	1726168
+SHUFFLE	COPY_MAP_DATA	150998000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5551064
+SHUFFLE	COMPRESS_BYTE_COUNT	1725397
+SHUFFLE	COPY_MAP_DATA	590914000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5574512
+SHUFFLE	COMPRESS_BYTE_COUNT	1711751
+SHUFFLE	COPY_MAP_DATA	926916000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5479130
+SHUFFLE	COMPRESS_BYTE_COUNT	1701930
+SHUFFLE	COPY_MAP_DATA	227361000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5501714
+SHUFFLE	COMPRESS_BYTE_COUNT	1689516
+SHUFFLE	COPY_MAP_DATA	3692321000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5548297
+SHUFFLE	COMPRESS_BYTE_COUNT	1725176
+SHUFFLE	COPY_MAP_DATA	1169823000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5591866
+SHUFFLE	COMPRESS_BYTE_COUNT	1716428
+SHUFFLE	COPY_MAP_DATA	273155000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5595582
+SHUFFLE	COMPRESS_BYTE_COUNT	1717872
+SHUFFLE	COPY_MAP_DATA	155296000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5540641
+SHUFFLE	COMPRESS_BYTE_COUNT	1700127
+SHUFFLE	COPY_MAP_DATA	184122000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5521336
+SHUFFLE	COMPRESS_BYTE_COUNT	1716808
+SHUFFLE	COPY_MAP_DATA	81401000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5469384
+SHUFFLE	COMPRESS_BYTE_COUNT	1700506
+SHUFFLE	COPY_MAP_DATA	246663000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5444583
+SHUFFLE	COMPRESS_BYTE_COUNT	1693186
+SHUFFLE	COPY_MAP_DATA	340204000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5539369
+SHUFFLE	COMPRESS_BYTE_COUNT	1700308
+SHUFFLE	COPY_MAP_DATA	164397000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5539217
+SHUFFLE	COMPRESS_BYTE_COUNT	1720612
+SHUFFLE	COPY_MAP_DATA	89787000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5574706
+SHUFFLE	COMPRESS_BYTE_COUNT	1710675
+SHUFFLE	COPY_MAP_DATA	426104000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5510521
+SHUFFLE	COMPRESS_BYTE_COUNT	1712966
+SHUFFLE	COPY_MAP_DATA	335785000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5517273
+SHUFFLE	COMPRESS_BYTE_COUNT	1714960
+SHUFFLE	COPY_MAP_DATA	295556000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5514040
+SHUFFLE	COMPRESS_BYTE_COUNT	1713855
+SHUFFLE	COPY_MAP_DATA	369436000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5483836
+SHUFFLE	COMPRESS_BYTE_COUNT	1703933
+SHUFFLE	COPY_MAP_DATA	94091000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5527731
+SHUFFLE	COMPRESS_BYTE_COUNT	1717768
+SHUFFLE	COPY_MAP_DATA	93283000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5468631
+SHUFFLE	COMPRESS_BYTE_COUNT	1698167
+SHUFFLE	COPY_MAP_DATA	1155991000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5578643
+SHUFFLE	COMPRESS_BYTE_COUNT	1711391
+SHUFFLE	COPY_MAP_DATA	86824000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5541922
+SHUFFLE	COMPRESS_BYTE_COUNT	1722874
+SHUFFLE	COPY_MAP_DATA	86981000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5522751
+SHUFFLE	COMPRESS_BYTE_COUNT	1714600
+SHUFFLE	COPY_MAP_DATA	545595000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5488723
+SHUFFLE	COMPRESS_BYTE_COUNT	1705951
+SHUFFLE	COPY_MAP_DATA	89669000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5552704
+SHUFFLE	COMPRESS_BYTE_COUNT	1730632
+SHUFFLE	COPY_MAP_DATA	109063000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5540240
+SHUFFLE	COMPRESS_BYTE_COUNT	1721248
+SHUFFLE	COPY_MAP_DATA	87287000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5479794
+SHUFFLE	COMPRESS_BYTE_COUNT	1704289
+SHUFFLE	COPY_MAP_DATA	153757000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5510462
+SHUFFLE	COMPRESS_BYTE_COUNT	1712630
+SHUFFLE	COPY_MAP_DATA	99704000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5381872
+SHUFFLE	COMPRESS_BYTE_COUNT	1674440
+SHUFFLE	COPY_MAP_DATA	203856000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5494431
+SHUFFLE	COMPRESS_BYTE_COUNT	1706636
+SHUFFLE	COPY_MAP_DATA	93044000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5531891
+SHUFFLE	COMPRESS_BYTE_COUNT	1719016
+SHUFFLE	COPY_MAP_DATA	90244000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5550066
+SHUFFLE	COMPRESS_BYTE_COUNT	1729293
+SHUFFLE	COPY_MAP_DATA	279539000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5510746
+SHUFFLE	COMPRESS_BYTE_COUNT	1713099
+SHUFFLE	COPY_MAP_DATA	101311000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5534888
+SHUFFLE	COMPRESS_BYTE_COUNT	1721086
+SHUFFLE	COPY_MAP_DATA	87194000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5528440
+SHUFFLE	COMPRESS_BYTE_COUNT	1718838
+SHUFFLE	COPY_MAP_DATA	98023000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5545302
+SHUFFLE	COMPRESS_BYTE_COUNT	1722991
+SHUFFLE	COPY_MAP_DATA	113557000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5561283
+SHUFFLE	COMPRESS_BYTE_COUNT	1732421
+SHUFFLE	COPY_MAP_DATA	86490000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5512332
+SHUFFLE	COMPRESS_BYTE_COUNT	1713819
+SHUFFLE	COPY_MAP_DATA	86007000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5503925
+SHUFFLE	COMPRESS_BYTE_COUNT	1709785
+SHUFFLE	COPY_MAP_DATA	86663000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5548517
+SHUFFLE	COMPRESS_BYTE_COUNT	1727965
+SHUFFLE	COPY_MAP_DATA	96094000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5557752
+SHUFFLE	COMPRESS_BYTE_COUNT	1731108
+SHUFFLE	COPY_MAP_DATA	126604000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5502151
+SHUFFLE	COMPRESS_BYTE_COUNT	1710828
+SHUFFLE	COPY_MAP_DATA	361428000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5512642
+SHUFFLE	COMPRESS_BYTE_COUNT	1734670
+SHUFFLE	COPY_MAP_DATA	304757000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5538506
+SHUFFLE	COMPRESS_BYTE_COUNT	1721473
+SHUFFLE	COPY_MAP_DATA	671642000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5547928
+SHUFFLE	COMPRESS_BYTE_COUNT	1728937
+SHUFFLE	COPY_MAP_DATA	286914000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5461209
+SHUFFLE	COMPRESS_BYTE_COUNT	1698515
+SHUFFLE	COPY_MAP_DATA	82914000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5563718
+SHUFFLE	COMPRESS_BYTE_COUNT	1730914
+SHUFFLE	COPY_MAP_DATA	94954000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5505963
+SHUFFLE	COMPRESS_BYTE_COUNT	1747188
+SHUFFLE	COPY_MAP_DATA	1000095000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5584896
+SHUFFLE	COMPRESS_BYTE_COUNT	1723118
+SHUFFLE	COPY_MAP_DATA	286490000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5597178
+SHUFFLE	COMPRESS_BYTE_COUNT	1727565
+SHUFFLE	COPY_MAP_DATA	83316000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4801852
+SHUFFLE	COMPRESS_BYTE_COUNT	1473910
+SHUFFLE	COPY_MAP_DATA	638061000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4748952
+SHUFFLE	COMPRESS_BYTE_COUNT	1458140
+SHUFFLE	COPY_MAP_DATA	1139858000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5594059
+SHUFFLE	COMPRESS_BYTE_COUNT	1726862
+SHUFFLE	COPY_MAP_DATA	790667000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5590975
+SHUFFLE	COMPRESS_BYTE_COUNT	1725759
+SHUFFLE	COPY_MAP_DATA	155169000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4490473
+SHUFFLE	COMPRESS_BYTE_COUNT	1396459
+SHUFFLE	COPY_MAP_DATA	739466000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5584364
+SHUFFLE	COMPRESS_BYTE_COUNT	1724439
+SHUFFLE	COPY_MAP_DATA	1919897000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4442841
+SHUFFLE	COMPRESS_BYTE_COUNT	1381660
+SHUFFLE	COPY_MAP_DATA	305338000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4753360
+SHUFFLE	COMPRESS_BYTE_COUNT	1458832
+SHUFFLE	COPY_MAP_DATA	97960000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5602099
+SHUFFLE	COMPRESS_BYTE_COUNT	1729580
+SHUFFLE	COPY_MAP_DATA	82579000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5600378
+SHUFFLE	COMPRESS_BYTE_COUNT	1728450
+SHUFFLE	COPY_MAP_DATA	203347000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5600786
+SHUFFLE	COMPRESS_BYTE_COUNT	1729204
+SHUFFLE	COPY_MAP_DATA	92978000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5597795
+SHUFFLE	COMPRESS_BYTE_COUNT	1728752
+SHUFFLE	COPY_MAP_DATA	85884000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4740764
+SHUFFLE	COMPRESS_BYTE_COUNT	1456529
+SHUFFLE	COPY_MAP_DATA	79755000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5602663
+SHUFFLE	COMPRESS_BYTE_COUNT	1730186
+SHUFFLE	COPY_MAP_DATA	80978000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5588278
+SHUFFLE	COMPRESS_BYTE_COUNT	1725200
+SHUFFLE	COPY_MAP_DATA	668758000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5562996
+SHUFFLE	COMPRESS_BYTE_COUNT	1732531
+SHUFFLE	COPY_MAP_DATA	263557000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4733593
+SHUFFLE	COMPRESS_BYTE_COUNT	1453863
+SHUFFLE	COPY_MAP_DATA	156234000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5603414
+SHUFFLE	COMPRESS_BYTE_COUNT	1729939
+SHUFFLE	COPY_MAP_DATA	349872000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4739635
+SHUFFLE	COMPRESS_BYTE_COUNT	1454731
+SHUFFLE	COPY_MAP_DATA	89835000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4784944
+SHUFFLE	COMPRESS_BYTE_COUNT	1469071
+SHUFFLE	COPY_MAP_DATA	1001597000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5536757
+SHUFFLE	COMPRESS_BYTE_COUNT	1725321
+SHUFFLE	COPY_MAP_DATA	877169000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5552469
+SHUFFLE	COMPRESS_BYTE_COUNT	1729518
+SHUFFLE	COPY_MAP_DATA	183995000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5557791
+SHUFFLE	COMPRESS_BYTE_COUNT	1731458
+SHUFFLE	COPY_MAP_DATA	173285000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5553872
+SHUFFLE	COMPRESS_BYTE_COUNT	1730871
+SHUFFLE	COPY_MAP_DATA	1073487000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1739526
+SHUFFLE	COMPRESS_BYTE_COUNT	537104
+SHUFFLE	COPY_MAP_DATA	47061000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5539669
+SHUFFLE	COMPRESS_BYTE_COUNT	1727337
+SHUFFLE	COPY_MAP_DATA	115754000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4730373
+SHUFFLE	COMPRESS_BYTE_COUNT	1452796
+SHUFFLE	COPY_MAP_DATA	90369000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4714079
+SHUFFLE	COMPRESS_BYTE_COUNT	1446509
+SHUFFLE	COPY_MAP_DATA	73985000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4516822
+SHUFFLE	COMPRESS_BYTE_COUNT	1404388
+SHUFFLE	COPY_MAP_DATA	93766000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4465656
+SHUFFLE	COMPRESS_BYTE_COUNT	1388765
+SHUFFLE	COPY_MAP_DATA	78136000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5563036
+SHUFFLE	COMPRESS_BYTE_COUNT	1732544
+SHUFFLE	COPY_MAP_DATA	88575000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4494131
+SHUFFLE	COMPRESS_BYTE_COUNT	1397575
+SHUFFLE	COPY_MAP_DATA	114830000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4487734
+SHUFFLE	COMPRESS_BYTE_COUNT	1395253
+SHUFFLE	COPY_MAP_DATA	80855000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4250133
+SHUFFLE	COMPRESS_BYTE_COUNT	1321226
+SHUFFLE	COPY_MAP_DATA	67738000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1739537
+SHUFFLE	COMPRESS_BYTE_COUNT	537661
+SHUFFLE	COPY_MAP_DATA	16164841000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5588752
+SHUFFLE	COMPRESS_BYTE_COUNT	1724981
+SHUFFLE	COPY_MAP_DATA	227109000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1730982
+SHUFFLE	COMPRESS_BYTE_COUNT	535777
+SHUFFLE	COPY_MAP_DATA	47243000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1667226
+SHUFFLE	COMPRESS_BYTE_COUNT	519973
+SHUFFLE	COPY_MAP_DATA	26877000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1743305
+SHUFFLE	COMPRESS_BYTE_COUNT	538832
+SHUFFLE	COPY_MAP_DATA	243738000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1739695
+SHUFFLE	COMPRESS_BYTE_COUNT	537811
+SHUFFLE	COPY_MAP_DATA	28106000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1733986
+SHUFFLE	COMPRESS_BYTE_COUNT	535956
+SHUFFLE	COPY_MAP_DATA	28880000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1730661
+SHUFFLE	COMPRESS_BYTE_COUNT	535692
+SHUFFLE	COPY_MAP_DATA	51286000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1738850
+SHUFFLE	COMPRESS_BYTE_COUNT	537710
+SHUFFLE	COPY_MAP_DATA	29161000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1664206
+SHUFFLE	COMPRESS_BYTE_COUNT	519468
+SHUFFLE	COPY_MAP_DATA	57358000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1666193
+SHUFFLE	COMPRESS_BYTE_COUNT	520477
+SHUFFLE	COPY_MAP_DATA	29213000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4488995
+SHUFFLE	COMPRESS_BYTE_COUNT	1395213
+SHUFFLE	COPY_MAP_DATA	2896348000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1729430
+SHUFFLE	COMPRESS_BYTE_COUNT	535155
+SHUFFLE	COPY_MAP_DATA	36371000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4730313
+SHUFFLE	COMPRESS_BYTE_COUNT	1451433
+SHUFFLE	COPY_MAP_DATA	491349000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5556840
+SHUFFLE	COMPRESS_BYTE_COUNT	1730653
+SHUFFLE	COPY_MAP_DATA	482432000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1663729
+SHUFFLE	COMPRESS_BYTE_COUNT	519074
+SHUFFLE	COPY_MAP_DATA	25908000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4417067
+SHUFFLE	COMPRESS_BYTE_COUNT	1372690
+SHUFFLE	COPY_MAP_DATA	93341000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1669304
+SHUFFLE	COMPRESS_BYTE_COUNT	520458
+SHUFFLE	COPY_MAP_DATA	25814000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4561430
+SHUFFLE	COMPRESS_BYTE_COUNT	1400505
+SHUFFLE	COPY_MAP_DATA	357516000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4501973
+SHUFFLE	COMPRESS_BYTE_COUNT	1399314
+SHUFFLE	COPY_MAP_DATA	359089000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4680128
+SHUFFLE	COMPRESS_BYTE_COUNT	1437305
+SHUFFLE	COPY_MAP_DATA	219636000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1667079
+SHUFFLE	COMPRESS_BYTE_COUNT	520521
+SHUFFLE	COPY_MAP_DATA	34606000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4748956
+SHUFFLE	COMPRESS_BYTE_COUNT	1457874
+SHUFFLE	COPY_MAP_DATA	74005000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4451905
+SHUFFLE	COMPRESS_BYTE_COUNT	1384158
+SHUFFLE	COPY_MAP_DATA	69445000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4465897
+SHUFFLE	COMPRESS_BYTE_COUNT	1388617
+SHUFFLE	COPY_MAP_DATA	81389000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4124053
+SHUFFLE	COMPRESS_BYTE_COUNT	1299134
+SHUFFLE	COPY_MAP_DATA	2519812000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4390534
+SHUFFLE	COMPRESS_BYTE_COUNT	1364934
+SHUFFLE	COPY_MAP_DATA	88110000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1669322
+SHUFFLE	COMPRESS_BYTE_COUNT	520302
+SHUFFLE	COPY_MAP_DATA	32301000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4705914
+SHUFFLE	COMPRESS_BYTE_COUNT	1445071
+SHUFFLE	COPY_MAP_DATA	80620000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1659769
+SHUFFLE	COMPRESS_BYTE_COUNT	517950
+SHUFFLE	COPY_MAP_DATA	28105000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1742406
+SHUFFLE	COMPRESS_BYTE_COUNT	538961
+SHUFFLE	COPY_MAP_DATA	30709000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4445124
+SHUFFLE	COMPRESS_BYTE_COUNT	1381576
+SHUFFLE	COPY_MAP_DATA	129682000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1657771
+SHUFFLE	COMPRESS_BYTE_COUNT	517425
+SHUFFLE	COPY_MAP_DATA	463233000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1741129
+SHUFFLE	COMPRESS_BYTE_COUNT	538559
+SHUFFLE	COPY_MAP_DATA	219089000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1663281
+SHUFFLE	COMPRESS_BYTE_COUNT	518957
+SHUFFLE	COPY_MAP_DATA	25521000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1745133
+SHUFFLE	COMPRESS_BYTE_COUNT	539328
+SHUFFLE	COPY_MAP_DATA	24912000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1739136
+SHUFFLE	COMPRESS_BYTE_COUNT	537727
+SHUFFLE	COPY_MAP_DATA	30736000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1579135
+SHUFFLE	COMPRESS_BYTE_COUNT	497980
+SHUFFLE	COPY_MAP_DATA	30458000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1668645
+SHUFFLE	COMPRESS_BYTE_COUNT	520708
+SHUFFLE	COPY_MAP_DATA	27916000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1704153
+SHUFFLE	COMPRESS_BYTE_COUNT	526732
+SHUFFLE	COPY_MAP_DATA	48386000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1659847
+SHUFFLE	COMPRESS_BYTE_COUNT	518271
+SHUFFLE	COPY_MAP_DATA	27310000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1666271
+SHUFFLE	COMPRESS_BYTE_COUNT	519290
+SHUFFLE	COPY_MAP_DATA	35479000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1626385
+SHUFFLE	COMPRESS_BYTE_COUNT	507830
+SHUFFLE	COPY_MAP_DATA	28697000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4441309
+SHUFFLE	COMPRESS_BYTE_COUNT	1380348
+SHUFFLE	COPY_MAP_DATA	111692000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1666163
+SHUFFLE	COMPRESS_BYTE_COUNT	519861
+SHUFFLE	COPY_MAP_DATA	28594000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	315395261000
+MERGE	READ_WRITE	311231133000
+MERGE	READ_WRITE_COUNT	8
+MERGE	COMBINE	0
+MERGE	WRITE	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	10167888000
+SORT	READ_WRITE	9943509000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	203891160
+REDUCE	SETUP	389000
+REDUCE	SETUP_MEM	203891160
+REDUCE	CLEANUP	36000
+REDUCE	CLEANUP_MEM	210442424
+REDUCE	TOTAL_RUN	409861824000
+REDUCE	READ	6880693000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	394626888000
+REDUCE	WRITE	223918177000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	55898322
+REDUCE	VALUE_BYTE_COUNT	1648150542
+REDUCE	REDUCE_MEM	210442424
+REDUCE	WRITE	963192000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	1080164607000
@@ -0,0 +1,989 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5490105
+SHUFFLE	COMPRESS_BYTE_COUNT	1707032
+SHUFFLE	COPY_MAP_DATA	504058000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5506207
+SHUFFLE	COMPRESS_BYTE_COUNT	1732384
+SHUFFLE	COPY_MAP_DATA	238965000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5509173
+SHUFFLE	COMPRESS_BYTE_COUNT	1712359
+SHUFFLE	COPY_MAP_DATA	229089000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5494180
+SHUFFLE	COMPRESS_BYTE_COUNT	1687935
+SHUFFLE	COPY_MAP_DATA	356898000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5565995
+SHUFFLE	COMPRESS_BYTE_COUNT	1730022
+SHUFFLE	COPY_MAP_DATA	123733000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5562592
+SHUFFLE	COMPRESS_BYTE_COUNT	1728515
+SHUFFLE	COPY_MAP_DATA	111722000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5518028
+SHUFFLE	COMPRESS_BYTE_COUNT	1715808
+SHUFFLE	COPY_MAP_DATA	139143000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5440050
+SHUFFLE	COMPRESS_BYTE_COUNT	1712729
+SHUFFLE	COPY_MAP_DATA	94974000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5474797
+SHUFFLE	COMPRESS_BYTE_COUNT	1701873
+SHUFFLE	COPY_MAP_DATA	254183000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5444548
+SHUFFLE	COMPRESS_BYTE_COUNT	1692220
+SHUFFLE	COPY_MAP_DATA	91044000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5525356
+SHUFFLE	COMPRESS_BYTE_COUNT	1716282
+SHUFFLE	COPY_MAP_DATA	94302000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5493400
+SHUFFLE	COMPRESS_BYTE_COUNT	1707432
+SHUFFLE	COPY_MAP_DATA	334812000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5556166
+SHUFFLE	COMPRESS_BYTE_COUNT	1726933
+SHUFFLE	COPY_MAP_DATA	289352000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5594656
+SHUFFLE	COMPRESS_BYTE_COUNT	1738796
+SHUFFLE	COPY_MAP_DATA	150999000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5549029
+SHUFFLE	COMPRESS_BYTE_COUNT	1725143
+SHUFFLE	COPY_MAP_DATA	89438000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5501646
+SHUFFLE	COMPRESS_BYTE_COUNT	1710953
+SHUFFLE	COPY_MAP_DATA	266761000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5486917
+SHUFFLE	COMPRESS_BYTE_COUNT	1705847
+SHUFFLE	COPY_MAP_DATA	111319000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5495366
+SHUFFLE	COMPRESS_BYTE_COUNT	1730696
+SHUFFLE	COPY_MAP_DATA	90027000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5473335
+SHUFFLE	COMPRESS_BYTE_COUNT	1724033
+SHUFFLE	COPY_MAP_DATA	275491000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5527433
+SHUFFLE	COMPRESS_BYTE_COUNT	1717956
+SHUFFLE	COPY_MAP_DATA	88629000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5475530
+SHUFFLE	COMPRESS_BYTE_COUNT	1702320
+SHUFFLE	COPY_MAP_DATA	106807000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5487322
+SHUFFLE	COMPRESS_BYTE_COUNT	1705627
+SHUFFLE	COPY_MAP_DATA	311026000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5525335
+SHUFFLE	COMPRESS_BYTE_COUNT	1715883
+SHUFFLE	COPY_MAP_DATA	187482000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5561589
+SHUFFLE	COMPRESS_BYTE_COUNT	1729625
+SHUFFLE	COPY_MAP_DATA	137482000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5531534
+SHUFFLE	COMPRESS_BYTE_COUNT	1719027
+SHUFFLE	COPY_MAP_DATA	508774000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5485678
+SHUFFLE	COMPRESS_BYTE_COUNT	1704375
+SHUFFLE	COPY_MAP_DATA	5319299000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5509203
+SHUFFLE	COMPRESS_BYTE_COUNT	1713461
+SHUFFLE	COPY_MAP_DATA	93498000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5520513
+SHUFFLE	COMPRESS_BYTE_COUNT	1715126
+SHUFFLE	COPY_MAP_DATA	393420000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5505609
+SHUFFLE	COMPRESS_BYTE_COUNT	1711254
+SHUFFLE	COPY_MAP_DATA	193626000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5429788
+SHUFFLE	COMPRESS_BYTE_COUNT	1736094
+SHUFFLE	COPY_MAP_DATA	90826000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5487563
+SHUFFLE	COMPRESS_BYTE_COUNT	1706079
+SHUFFLE	COPY_MAP_DATA	89679000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5605312
+SHUFFLE	COMPRESS_BYTE_COUNT	1719630
+SHUFFLE	COPY_MAP_DATA	1154700000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5541678
+SHUFFLE	COMPRESS_BYTE_COUNT	1701451
+SHUFFLE	COPY_MAP_DATA	707208000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5487401
+SHUFFLE	COMPRESS_BYTE_COUNT	1706823
+SHUFFLE	COPY_MAP_DATA	293416000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5476043
+SHUFFLE	COMPRESS_BYTE_COUNT	1702264
+SHUFFLE	COPY_MAP_DATA	87465000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5499400
+SHUFFLE	COMPRESS_BYTE_COUNT	1710622
+SHUFFLE	COPY_MAP_DATA	83395000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5556367
+SHUFFLE	COMPRESS_BYTE_COUNT	1706525
+SHUFFLE	COPY_MAP_DATA	137378000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5449592
+SHUFFLE	COMPRESS_BYTE_COUNT	1694030
+SHUFFLE	COPY_MAP_DATA	82083000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5491784
+SHUFFLE	COMPRESS_BYTE_COUNT	1706955
+SHUFFLE	COPY_MAP_DATA	1564538000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5457950
+SHUFFLE	COMPRESS_BYTE_COUNT	1718144
+SHUFFLE	COPY_MAP_DATA	340859000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5521266
+SHUFFLE	COMPRESS_BYTE_COUNT	1693883
+SHUFFLE	COPY_MAP_DATA	139612000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5540305
+SHUFFLE	COMPRESS_BYTE_COUNT	1721495
+SHUFFLE	COPY_MAP_DATA	405829000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5563645
+SHUFFLE	COMPRESS_BYTE_COUNT	1729220
+SHUFFLE	COPY_MAP_DATA	100206000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5488304
+SHUFFLE	COMPRESS_BYTE_COUNT	1705754
+SHUFFLE	COPY_MAP_DATA	107404000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5496945
+SHUFFLE	COMPRESS_BYTE_COUNT	1709265
+SHUFFLE	COPY_MAP_DATA	119521000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5506320
+SHUFFLE	COMPRESS_BYTE_COUNT	1710725
+SHUFFLE	COPY_MAP_DATA	3233644000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5567760
+SHUFFLE	COMPRESS_BYTE_COUNT	1709644
+SHUFFLE	COPY_MAP_DATA	104127000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5480064
+SHUFFLE	COMPRESS_BYTE_COUNT	1681561
+SHUFFLE	COPY_MAP_DATA	615423000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5516582
+SHUFFLE	COMPRESS_BYTE_COUNT	1714771
+SHUFFLE	COPY_MAP_DATA	333398000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5565443
+SHUFFLE	COMPRESS_BYTE_COUNT	1708637
+SHUFFLE	COPY_MAP_DATA	141309000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5494587
+SHUFFLE	COMPRESS_BYTE_COUNT	1708526
+SHUFFLE	COPY_MAP_DATA	8523802000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5507597
+SHUFFLE	COMPRESS_BYTE_COUNT	1691047
+SHUFFLE	COPY_MAP_DATA	1660087000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5522297
+SHUFFLE	COMPRESS_BYTE_COUNT	1716446
+SHUFFLE	COPY_MAP_DATA	150564000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5563024
+SHUFFLE	COMPRESS_BYTE_COUNT	1707563
+SHUFFLE	COPY_MAP_DATA	246245000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5544547
+SHUFFLE	COMPRESS_BYTE_COUNT	1702697
+SHUFFLE	COPY_MAP_DATA	2251890000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5561656
+SHUFFLE	COMPRESS_BYTE_COUNT	1726220
+SHUFFLE	COPY_MAP_DATA	268591000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5590883
+SHUFFLE	COMPRESS_BYTE_COUNT	1715979
+SHUFFLE	COPY_MAP_DATA	844966000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5534963
+SHUFFLE	COMPRESS_BYTE_COUNT	1719979
+SHUFFLE	COPY_MAP_DATA	113487000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5527540
+SHUFFLE	COMPRESS_BYTE_COUNT	1696686
+SHUFFLE	COPY_MAP_DATA	102535000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5566827
+SHUFFLE	COMPRESS_BYTE_COUNT	1708674
+SHUFFLE	COPY_MAP_DATA	87195000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5509000
+SHUFFLE	COMPRESS_BYTE_COUNT	1690648
+SHUFFLE	COPY_MAP_DATA	109236000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5560972
+SHUFFLE	COMPRESS_BYTE_COUNT	1705601
+SHUFFLE	COPY_MAP_DATA	3613823000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5576435
+SHUFFLE	COMPRESS_BYTE_COUNT	1712375
+SHUFFLE	COPY_MAP_DATA	5554282000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5566822
+SHUFFLE	COMPRESS_BYTE_COUNT	1708003
+SHUFFLE	COPY_MAP_DATA	143841000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5542124
+SHUFFLE	COMPRESS_BYTE_COUNT	1701318
+SHUFFLE	COPY_MAP_DATA	191039000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5581395
+SHUFFLE	COMPRESS_BYTE_COUNT	1713781
+SHUFFLE	COPY_MAP_DATA	199966000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5447801
+SHUFFLE	COMPRESS_BYTE_COUNT	1712270
+SHUFFLE	COPY_MAP_DATA	2384687000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5572311
+SHUFFLE	COMPRESS_BYTE_COUNT	1709950
+SHUFFLE	COPY_MAP_DATA	2485970000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5443016
+SHUFFLE	COMPRESS_BYTE_COUNT	1713172
+SHUFFLE	COPY_MAP_DATA	99045000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5533211
+SHUFFLE	COMPRESS_BYTE_COUNT	1698547
+SHUFFLE	COPY_MAP_DATA	172710000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5548217
+SHUFFLE	COMPRESS_BYTE_COUNT	1703356
+SHUFFLE	COPY_MAP_DATA	1402920000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5517657
+SHUFFLE	COMPRESS_BYTE_COUNT	1693526
+SHUFFLE	COPY_MAP_DATA	1123292000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5487842
+SHUFFLE	COMPRESS_BYTE_COUNT	1684645
+SHUFFLE	COPY_MAP_DATA	182967000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5483263
+SHUFFLE	COMPRESS_BYTE_COUNT	1684005
+SHUFFLE	COPY_MAP_DATA	108079000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5568056
+SHUFFLE	COMPRESS_BYTE_COUNT	1708210
+SHUFFLE	COPY_MAP_DATA	120874000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5598986
+SHUFFLE	COMPRESS_BYTE_COUNT	1717585
+SHUFFLE	COPY_MAP_DATA	388055000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5516472
+SHUFFLE	COMPRESS_BYTE_COUNT	1694563
+SHUFFLE	COPY_MAP_DATA	767500000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5532754
+SHUFFLE	COMPRESS_BYTE_COUNT	1697498
+SHUFFLE	COPY_MAP_DATA	782586000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5533386
+SHUFFLE	COMPRESS_BYTE_COUNT	1698855
+SHUFFLE	COPY_MAP_DATA	92025000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5560213
+SHUFFLE	COMPRESS_BYTE_COUNT	1706471
+SHUFFLE	COPY_MAP_DATA	152485000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5569100
+SHUFFLE	COMPRESS_BYTE_COUNT	1709296
+SHUFFLE	COPY_MAP_DATA	379506000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5571320
+SHUFFLE	COMPRESS_BYTE_COUNT	1710100
+SHUFFLE	COPY_MAP_DATA	2661692000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5519447
+SHUFFLE	COMPRESS_BYTE_COUNT	1694546
+SHUFFLE	COPY_MAP_DATA	2168694000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5469481
+SHUFFLE	COMPRESS_BYTE_COUNT	1722792
+SHUFFLE	COPY_MAP_DATA	135768000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5548797
+SHUFFLE	COMPRESS_BYTE_COUNT	1703210
+SHUFFLE	COPY_MAP_DATA	142884000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5511018
+SHUFFLE	COMPRESS_BYTE_COUNT	1690773
+SHUFFLE	COPY_MAP_DATA	174611000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5543263
+SHUFFLE	COMPRESS_BYTE_COUNT	1701047
+SHUFFLE	COPY_MAP_DATA	145002000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5549399
+SHUFFLE	COMPRESS_BYTE_COUNT	1704562
+SHUFFLE	COPY_MAP_DATA	177460000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5571996
+SHUFFLE	COMPRESS_BYTE_COUNT	1709983
+SHUFFLE	COPY_MAP_DATA	346037000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5537154
+SHUFFLE	COMPRESS_BYTE_COUNT	1699566
+SHUFFLE	COPY_MAP_DATA	113315000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5573400
+SHUFFLE	COMPRESS_BYTE_COUNT	1709823
+SHUFFLE	COPY_MAP_DATA	102369000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5573574
+SHUFFLE	COMPRESS_BYTE_COUNT	1710781
+SHUFFLE	COPY_MAP_DATA	519964000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5616967
+SHUFFLE	COMPRESS_BYTE_COUNT	1723086
+SHUFFLE	COPY_MAP_DATA	91033000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5566321
+SHUFFLE	COMPRESS_BYTE_COUNT	1709412
+SHUFFLE	COPY_MAP_DATA	100199000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5529871
+SHUFFLE	COMPRESS_BYTE_COUNT	1696642
+SHUFFLE	COPY_MAP_DATA	157243000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5603538
+SHUFFLE	COMPRESS_BYTE_COUNT	1719949
+SHUFFLE	COPY_MAP_DATA	110110000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5577068
+SHUFFLE	COMPRESS_BYTE_COUNT	1733347
+SHUFFLE	COPY_MAP_DATA	98457000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5493096
+SHUFFLE	COMPRESS_BYTE_COUNT	1686343
+SHUFFLE	COPY_MAP_DATA	224460000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5578374
+SHUFFLE	COMPRESS_BYTE_COUNT	1710502
+SHUFFLE	COPY_MAP_DATA	549294000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5583264
+SHUFFLE	COMPRESS_BYTE_COUNT	1712795
+SHUFFLE	COPY_MAP_DATA	88933000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5523860
+SHUFFLE	COMPRESS_BYTE_COUNT	1716495
+SHUFFLE	COPY_MAP_DATA	88652000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5512156
+SHUFFLE	COMPRESS_BYTE_COUNT	1692911
+SHUFFLE	COPY_MAP_DATA	230413000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5581682
+SHUFFLE	COMPRESS_BYTE_COUNT	1712843
+SHUFFLE	COPY_MAP_DATA	3629811000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5577408
+SHUFFLE	COMPRESS_BYTE_COUNT	1710739
+SHUFFLE	COPY_MAP_DATA	90246000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5496116
+SHUFFLE	COMPRESS_BYTE_COUNT	1687630
+SHUFFLE	COPY_MAP_DATA	196207000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5526894
+SHUFFLE	COMPRESS_BYTE_COUNT	1697184
+SHUFFLE	COPY_MAP_DATA	187233000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5547751
+SHUFFLE	COMPRESS_BYTE_COUNT	1702470
+SHUFFLE	COPY_MAP_DATA	102650000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5454951
+SHUFFLE	COMPRESS_BYTE_COUNT	1695443
+SHUFFLE	COPY_MAP_DATA	1624964000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5518634
+SHUFFLE	COMPRESS_BYTE_COUNT	1694210
+SHUFFLE	COPY_MAP_DATA	177327000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5577316
+SHUFFLE	COMPRESS_BYTE_COUNT	1712296
+SHUFFLE	COPY_MAP_DATA	228157000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5540069
+SHUFFLE	COMPRESS_BYTE_COUNT	1699537
+SHUFFLE	COPY_MAP_DATA	106658000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5561562
+SHUFFLE	COMPRESS_BYTE_COUNT	1728521
+SHUFFLE	COPY_MAP_DATA	101824000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5492853
+SHUFFLE	COMPRESS_BYTE_COUNT	1707232
+SHUFFLE	COPY_MAP_DATA	83122000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5571354
+SHUFFLE	COMPRESS_BYTE_COUNT	1711003
+SHUFFLE	COPY_MAP_DATA	100056000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5662396
+SHUFFLE	COMPRESS_BYTE_COUNT	1736814
+SHUFFLE	COPY_MAP_DATA	186397000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5498747
+SHUFFLE	COMPRESS_BYTE_COUNT	1709365
+SHUFFLE	COPY_MAP_DATA	922271000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5554126
+SHUFFLE	COMPRESS_BYTE_COUNT	1725764
+SHUFFLE	COPY_MAP_DATA	1498707000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5541300
+SHUFFLE	COMPRESS_BYTE_COUNT	1701237
+SHUFFLE	COPY_MAP_DATA	167254000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5557326
+SHUFFLE	COMPRESS_BYTE_COUNT	1706666
+SHUFFLE	COPY_MAP_DATA	308156000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5460967
+SHUFFLE	COMPRESS_BYTE_COUNT	1697125
+SHUFFLE	COPY_MAP_DATA	1296394000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5529558
+SHUFFLE	COMPRESS_BYTE_COUNT	1717892
+SHUFFLE	COPY_MAP_DATA	94347000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5553430
+SHUFFLE	COMPRESS_BYTE_COUNT	1705088
+SHUFFLE	COPY_MAP_DATA	194502000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5493597
+SHUFFLE	COMPRESS_BYTE_COUNT	1707042
+SHUFFLE	COPY_MAP_DATA	97907000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5534034
+SHUFFLE	COMPRESS_BYTE_COUNT	1699983
+SHUFFLE	COPY_MAP_DATA	82981000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5558010
+SHUFFLE	COMPRESS_BYTE_COUNT	1727857
+SHUFFLE	COPY_MAP_DATA	1362492000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5546875
+SHUFFLE	COMPRESS_BYTE_COUNT	1723735
+SHUFFLE	COPY_MAP_DATA	601541000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5522789
+SHUFFLE	COMPRESS_BYTE_COUNT	1715379
+SHUFFLE	COPY_MAP_DATA	527922000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5524045
+SHUFFLE	COMPRESS_BYTE_COUNT	1716640
+SHUFFLE	COPY_MAP_DATA	287582000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5535289
+SHUFFLE	COMPRESS_BYTE_COUNT	1720636
+SHUFFLE	COPY_MAP_DATA	565546000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5507785
+SHUFFLE	COMPRESS_BYTE_COUNT	1712579
+SHUFFLE	COPY_MAP_DATA	380638000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5515909
+SHUFFLE	COMPRESS_BYTE_COUNT	1692969
+SHUFFLE	COPY_MAP_DATA	90181000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5477829
+SHUFFLE	COMPRESS_BYTE_COUNT	1702680
+SHUFFLE	COPY_MAP_DATA	107367000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5486622
+SHUFFLE	COMPRESS_BYTE_COUNT	1706817
+SHUFFLE	COPY_MAP_DATA	2509845000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5464416
+SHUFFLE	COMPRESS_BYTE_COUNT	1698772
+SHUFFLE	COPY_MAP_DATA	1107062000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5524224
+SHUFFLE	COMPRESS_BYTE_COUNT	1716727
+SHUFFLE	COPY_MAP_DATA	87843000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5463918
+SHUFFLE	COMPRESS_BYTE_COUNT	1698312
+SHUFFLE	COPY_MAP_DATA	535324000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5551671
+SHUFFLE	COMPRESS_BYTE_COUNT	1728713
+SHUFFLE	COPY_MAP_DATA	102982000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5491593
+SHUFFLE	COMPRESS_BYTE_COUNT	1706134
+SHUFFLE	COPY_MAP_DATA	923880000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5546365
+SHUFFLE	COMPRESS_BYTE_COUNT	1722652
+SHUFFLE	COPY_MAP_DATA	154184000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5494476
+SHUFFLE	COMPRESS_BYTE_COUNT	1707356
+SHUFFLE	COPY_MAP_DATA	85090000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5516937
+SHUFFLE	COMPRESS_BYTE_COUNT	1714617
+SHUFFLE	COPY_MAP_DATA	86718000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5480272
+SHUFFLE	COMPRESS_BYTE_COUNT	1702457
+SHUFFLE	COPY_MAP_DATA	111672000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5533298
+SHUFFLE	COMPRESS_BYTE_COUNT	1719058
+SHUFFLE	COPY_MAP_DATA	105792000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5496045
+SHUFFLE	COMPRESS_BYTE_COUNT	1709064
+SHUFFLE	COPY_MAP_DATA	85442000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5554541
+SHUFFLE	COMPRESS_BYTE_COUNT	1730504
+SHUFFLE	COPY_MAP_DATA	204656000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5524718
+SHUFFLE	COMPRESS_BYTE_COUNT	1715506
+SHUFFLE	COPY_MAP_DATA	250214000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5558629
+SHUFFLE	COMPRESS_BYTE_COUNT	1728111
+SHUFFLE	COPY_MAP_DATA	373976000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5549471
+SHUFFLE	COMPRESS_BYTE_COUNT	1725330
+SHUFFLE	COPY_MAP_DATA	109369000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5454935
+SHUFFLE	COMPRESS_BYTE_COUNT	1695584
+SHUFFLE	COPY_MAP_DATA	130416000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5558914
+SHUFFLE	COMPRESS_BYTE_COUNT	1732155
+SHUFFLE	COPY_MAP_DATA	194374000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5559461
+SHUFFLE	COMPRESS_BYTE_COUNT	1732747
+SHUFFLE	COPY_MAP_DATA	190577000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5545340
+SHUFFLE	COMPRESS_BYTE_COUNT	1727266
+SHUFFLE	COPY_MAP_DATA	2738421000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5534398
+SHUFFLE	COMPRESS_BYTE_COUNT	1720034
+SHUFFLE	COPY_MAP_DATA	87525000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5544466
+SHUFFLE	COMPRESS_BYTE_COUNT	1722592
+SHUFFLE	COPY_MAP_DATA	291030000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5521926
+SHUFFLE	COMPRESS_BYTE_COUNT	1737209
+SHUFFLE	COPY_MAP_DATA	98562000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5524749
+SHUFFLE	COMPRESS_BYTE_COUNT	1717312
+SHUFFLE	COPY_MAP_DATA	1518292000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5560318
+SHUFFLE	COMPRESS_BYTE_COUNT	1729627
+SHUFFLE	COPY_MAP_DATA	200455000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5560124
+SHUFFLE	COMPRESS_BYTE_COUNT	1731336
+SHUFFLE	COPY_MAP_DATA	97177000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5588884
+SHUFFLE	COMPRESS_BYTE_COUNT	1724719
+SHUFFLE	COPY_MAP_DATA	252692000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5508469
+SHUFFLE	COMPRESS_BYTE_COUNT	1747093
+SHUFFLE	COPY_MAP_DATA	87793000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5587856
+SHUFFLE	COMPRESS_BYTE_COUNT	1725654
+SHUFFLE	COPY_MAP_DATA	119311000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4757856
+SHUFFLE	COMPRESS_BYTE_COUNT	1460451
+SHUFFLE	COPY_MAP_DATA	345264000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4686939
+SHUFFLE	COMPRESS_BYTE_COUNT	1439068
+SHUFFLE	COPY_MAP_DATA	329929000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4453948
+SHUFFLE	COMPRESS_BYTE_COUNT	1384157
+SHUFFLE	COPY_MAP_DATA	85583000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5587951
+SHUFFLE	COMPRESS_BYTE_COUNT	1724550
+SHUFFLE	COPY_MAP_DATA	89469000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5587359
+SHUFFLE	COMPRESS_BYTE_COUNT	1724443
+SHUFFLE	COPY_MAP_DATA	122354000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4481125
+SHUFFLE	COMPRESS_BYTE_COUNT	1393065
+SHUFFLE	COPY_MAP_DATA	133220000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5588815
+SHUFFLE	COMPRESS_BYTE_COUNT	1725577
+SHUFFLE	COPY_MAP_DATA	1343671000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4765077
+SHUFFLE	COMPRESS_BYTE_COUNT	1461349
+SHUFFLE	COPY_MAP_DATA	87016000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5599916
+SHUFFLE	COMPRESS_BYTE_COUNT	1728578
+SHUFFLE	COPY_MAP_DATA	92130000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5590652
+SHUFFLE	COMPRESS_BYTE_COUNT	1725810
+SHUFFLE	COPY_MAP_DATA	123576000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5586902
+SHUFFLE	COMPRESS_BYTE_COUNT	1725322
+SHUFFLE	COPY_MAP_DATA	147142000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4772076
+SHUFFLE	COMPRESS_BYTE_COUNT	1466048
+SHUFFLE	COPY_MAP_DATA	86699000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5597191
+SHUFFLE	COMPRESS_BYTE_COUNT	1728489
+SHUFFLE	COPY_MAP_DATA	233664000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5589074
+SHUFFLE	COMPRESS_BYTE_COUNT	1725983
+SHUFFLE	COPY_MAP_DATA	1453347000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5584752
+SHUFFLE	COMPRESS_BYTE_COUNT	1725172
+SHUFFLE	COPY_MAP_DATA	232057000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5557202
+SHUFFLE	COMPRESS_BYTE_COUNT	1730950
+SHUFFLE	COPY_MAP_DATA	89960000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4746169
+SHUFFLE	COMPRESS_BYTE_COUNT	1457848
+SHUFFLE	COPY_MAP_DATA	86748000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4751074
+SHUFFLE	COMPRESS_BYTE_COUNT	1458255
+SHUFFLE	COPY_MAP_DATA	250834000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4758382
+SHUFFLE	COMPRESS_BYTE_COUNT	1461036
+SHUFFLE	COPY_MAP_DATA	106348000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5595324
+SHUFFLE	COMPRESS_BYTE_COUNT	1727504
+SHUFFLE	COPY_MAP_DATA	745354000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5551287
+SHUFFLE	COMPRESS_BYTE_COUNT	1727919
+SHUFFLE	COPY_MAP_DATA	2018986000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5549418
+SHUFFLE	COMPRESS_BYTE_COUNT	1728906
+SHUFFLE	COPY_MAP_DATA	89847000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5564506
+SHUFFLE	COMPRESS_BYTE_COUNT	1732962
+SHUFFLE	COPY_MAP_DATA	435075000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1736322
+SHUFFLE	COMPRESS_BYTE_COUNT	537411
+SHUFFLE	COPY_MAP_DATA	267781000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5547048
+SHUFFLE	COMPRESS_BYTE_COUNT	1729282
+SHUFFLE	COPY_MAP_DATA	95320000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5549025
+SHUFFLE	COMPRESS_BYTE_COUNT	1728572
+SHUFFLE	COPY_MAP_DATA	597878000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4743251
+SHUFFLE	COMPRESS_BYTE_COUNT	1455656
+SHUFFLE	COPY_MAP_DATA	82383000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4699069
+SHUFFLE	COMPRESS_BYTE_COUNT	1443405
+SHUFFLE	COPY_MAP_DATA	71149000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4414148
+SHUFFLE	COMPRESS_BYTE_COUNT	1372321
+SHUFFLE	COPY_MAP_DATA	68699000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5568939
+SHUFFLE	COMPRESS_BYTE_COUNT	1734334
+SHUFFLE	COPY_MAP_DATA	328277000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4464174
+SHUFFLE	COMPRESS_BYTE_COUNT	1387360
+SHUFFLE	COPY_MAP_DATA	97672000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4465625
+SHUFFLE	COMPRESS_BYTE_COUNT	1387167
+SHUFFLE	COPY_MAP_DATA	67244000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4270471
+SHUFFLE	COMPRESS_BYTE_COUNT	1327407
+SHUFFLE	COPY_MAP_DATA	373715000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4427545
+SHUFFLE	COMPRESS_BYTE_COUNT	1376810
+SHUFFLE	COPY_MAP_DATA	72535000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5583306
+SHUFFLE	COMPRESS_BYTE_COUNT	1724202
+SHUFFLE	COPY_MAP_DATA	223648000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1741014
+SHUFFLE	COMPRESS_BYTE_COUNT	538455
+SHUFFLE	COPY_MAP_DATA	9213248000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1736597
+SHUFFLE	COMPRESS_BYTE_COUNT	537424
+SHUFFLE	COPY_MAP_DATA	32617000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1734859
+SHUFFLE	COMPRESS_BYTE_COUNT	536093
+SHUFFLE	COPY_MAP_DATA	30587000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1663409
+SHUFFLE	COMPRESS_BYTE_COUNT	519130
+SHUFFLE	COPY_MAP_DATA	27996000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1745293
+SHUFFLE	COMPRESS_BYTE_COUNT	539279
+SHUFFLE	COPY_MAP_DATA	33087000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1739478
+SHUFFLE	COMPRESS_BYTE_COUNT	537670
+SHUFFLE	COPY_MAP_DATA	40964000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1733855
+SHUFFLE	COMPRESS_BYTE_COUNT	536375
+SHUFFLE	COPY_MAP_DATA	97720000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5551855
+SHUFFLE	COMPRESS_BYTE_COUNT	1729831
+SHUFFLE	COPY_MAP_DATA	301400000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1733499
+SHUFFLE	COMPRESS_BYTE_COUNT	535937
+SHUFFLE	COPY_MAP_DATA	32437000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4485177
+SHUFFLE	COMPRESS_BYTE_COUNT	1395037
+SHUFFLE	COPY_MAP_DATA	96534000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1665751
+SHUFFLE	COMPRESS_BYTE_COUNT	519872
+SHUFFLE	COPY_MAP_DATA	30323000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4378291
+SHUFFLE	COMPRESS_BYTE_COUNT	1361828
+SHUFFLE	COPY_MAP_DATA	89256000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1736047
+SHUFFLE	COMPRESS_BYTE_COUNT	536555
+SHUFFLE	COPY_MAP_DATA	141376000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1665970
+SHUFFLE	COMPRESS_BYTE_COUNT	519801
+SHUFFLE	COPY_MAP_DATA	238886000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4711232
+SHUFFLE	COMPRESS_BYTE_COUNT	1446567
+SHUFFLE	COPY_MAP_DATA	276727000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1666423
+SHUFFLE	COMPRESS_BYTE_COUNT	520128
+SHUFFLE	COPY_MAP_DATA	595901000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1666198
+SHUFFLE	COMPRESS_BYTE_COUNT	519534
+SHUFFLE	COPY_MAP_DATA	29278000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4714190
+SHUFFLE	COMPRESS_BYTE_COUNT	1447776
+SHUFFLE	COPY_MAP_DATA	97784000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4739886
+SHUFFLE	COMPRESS_BYTE_COUNT	1455338
+SHUFFLE	COPY_MAP_DATA	392542000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4551114
+SHUFFLE	COMPRESS_BYTE_COUNT	1396955
+SHUFFLE	COPY_MAP_DATA	1695479000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1669189
+SHUFFLE	COMPRESS_BYTE_COUNT	520808
+SHUFFLE	COPY_MAP_DATA	886333000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4444899
+SHUFFLE	COMPRESS_BYTE_COUNT	1382436
+SHUFFLE	COPY_MAP_DATA	267265000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4452697
+SHUFFLE	COMPRESS_BYTE_COUNT	1384075
+SHUFFLE	COPY_MAP_DATA	70201000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4383760
+SHUFFLE	COMPRESS_BYTE_COUNT	1362770
+SHUFFLE	COPY_MAP_DATA	88877000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1745554
+SHUFFLE	COMPRESS_BYTE_COUNT	539130
+SHUFFLE	COPY_MAP_DATA	29063000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4707620
+SHUFFLE	COMPRESS_BYTE_COUNT	1446455
+SHUFFLE	COPY_MAP_DATA	73352000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4460241
+SHUFFLE	COMPRESS_BYTE_COUNT	1386369
+SHUFFLE	COPY_MAP_DATA	70527000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4113630
+SHUFFLE	COMPRESS_BYTE_COUNT	1295898
+SHUFFLE	COPY_MAP_DATA	1305289000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1740353
+SHUFFLE	COMPRESS_BYTE_COUNT	537758
+SHUFFLE	COPY_MAP_DATA	28914000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4459349
+SHUFFLE	COMPRESS_BYTE_COUNT	1386009
+SHUFFLE	COPY_MAP_DATA	72210000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1668665
+SHUFFLE	COMPRESS_BYTE_COUNT	520253
+SHUFFLE	COPY_MAP_DATA	40737000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1743837
+SHUFFLE	COMPRESS_BYTE_COUNT	539025
+SHUFFLE	COPY_MAP_DATA	51281000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1661869
+SHUFFLE	COMPRESS_BYTE_COUNT	518681
+SHUFFLE	COPY_MAP_DATA	190551000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1661009
+SHUFFLE	COMPRESS_BYTE_COUNT	518015
+SHUFFLE	COPY_MAP_DATA	429036000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1743816
+SHUFFLE	COMPRESS_BYTE_COUNT	538773
+SHUFFLE	COPY_MAP_DATA	617694000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1661695
+SHUFFLE	COMPRESS_BYTE_COUNT	518729
+SHUFFLE	COPY_MAP_DATA	204139000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1665882
+SHUFFLE	COMPRESS_BYTE_COUNT	519489
+SHUFFLE	COPY_MAP_DATA	91165000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1581076
+SHUFFLE	COMPRESS_BYTE_COUNT	498103
+SHUFFLE	COPY_MAP_DATA	227119000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1625418
+SHUFFLE	COMPRESS_BYTE_COUNT	507121
+SHUFFLE	COPY_MAP_DATA	28432000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1659778
+SHUFFLE	COMPRESS_BYTE_COUNT	518809
+SHUFFLE	COPY_MAP_DATA	155647000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1706540
+SHUFFLE	COMPRESS_BYTE_COUNT	527058
+SHUFFLE	COPY_MAP_DATA	240651000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1662368
+SHUFFLE	COMPRESS_BYTE_COUNT	518784
+SHUFFLE	COPY_MAP_DATA	29248000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1662828
+SHUFFLE	COMPRESS_BYTE_COUNT	518924
+SHUFFLE	COPY_MAP_DATA	30118000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4466067
+SHUFFLE	COMPRESS_BYTE_COUNT	1389143
+SHUFFLE	COPY_MAP_DATA	150629000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	353281764864
+MERGE	READ_WRITE	343349304864
+MERGE	READ_WRITE_COUNT	8
+MERGE	COMBINE	0
+MERGE	WRITE	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	12342993000
+SORT	READ_WRITE	12271350000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	245404544
+REDUCE	SETUP	329000
+REDUCE	SETUP_MEM	245404544
+REDUCE	CLEANUP	42000
+REDUCE	CLEANUP_MEM	226490992
+REDUCE	TOTAL_RUN	422223510000
+REDUCE	READ	7231408000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	406339494000
+REDUCE	WRITE	224625009000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	55875576
+REDUCE	VALUE_BYTE_COUNT	1647398346
+REDUCE	REDUCE_MEM	226493040
+REDUCE	WRITE	53400000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	1102194656864
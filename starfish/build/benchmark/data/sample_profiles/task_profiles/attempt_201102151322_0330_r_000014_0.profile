@@ -0,0 +1,989 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5530491
+SHUFFLE	COMPRESS_BYTE_COUNT	1717788
+SHUFFLE	COPY_MAP_DATA	219912000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5539247
+SHUFFLE	COMPRESS_BYTE_COUNT	1721648
+SHUFFLE	COPY_MAP_DATA	552803000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5501525
+SHUFFLE	COMPRESS_BYTE_COUNT	1732522
+SHUFFLE	COPY_MAP_DATA	158469000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5526802
+SHUFFLE	COMPRESS_BYTE_COUNT	1718024
+SHUFFLE	COPY_MAP_DATA	147171000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5514903
+SHUFFLE	COMPRESS_BYTE_COUNT	1713656
+SHUFFLE	COPY_MAP_DATA	244343000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5535273
+SHUFFLE	COMPRESS_BYTE_COUNT	1720052
+SHUFFLE	COPY_MAP_DATA	658287000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5531327
+SHUFFLE	COMPRESS_BYTE_COUNT	1718316
+SHUFFLE	COPY_MAP_DATA	298347000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5482033
+SHUFFLE	COMPRESS_BYTE_COUNT	1683157
+SHUFFLE	COPY_MAP_DATA	90230000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5409635
+SHUFFLE	COMPRESS_BYTE_COUNT	1704023
+SHUFFLE	COPY_MAP_DATA	235766000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5545604
+SHUFFLE	COMPRESS_BYTE_COUNT	1722920
+SHUFFLE	COPY_MAP_DATA	350384000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5544008
+SHUFFLE	COMPRESS_BYTE_COUNT	1723546
+SHUFFLE	COPY_MAP_DATA	185507000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5458608
+SHUFFLE	COMPRESS_BYTE_COUNT	1696918
+SHUFFLE	COPY_MAP_DATA	94516000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5471631
+SHUFFLE	COMPRESS_BYTE_COUNT	1701085
+SHUFFLE	COPY_MAP_DATA	112319000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5503212
+SHUFFLE	COMPRESS_BYTE_COUNT	1710247
+SHUFFLE	COPY_MAP_DATA	121390000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5493142
+SHUFFLE	COMPRESS_BYTE_COUNT	1707427
+SHUFFLE	COPY_MAP_DATA	298998000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5406746
+SHUFFLE	COMPRESS_BYTE_COUNT	1681592
+SHUFFLE	COPY_MAP_DATA	87360000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5480271
+SHUFFLE	COMPRESS_BYTE_COUNT	1703995
+SHUFFLE	COPY_MAP_DATA	100671000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5492832
+SHUFFLE	COMPRESS_BYTE_COUNT	1707192
+SHUFFLE	COPY_MAP_DATA	198648000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5492515
+SHUFFLE	COMPRESS_BYTE_COUNT	1708057
+SHUFFLE	COPY_MAP_DATA	182404000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5451748
+SHUFFLE	COMPRESS_BYTE_COUNT	1716986
+SHUFFLE	COPY_MAP_DATA	111179000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5497862
+SHUFFLE	COMPRESS_BYTE_COUNT	1708473
+SHUFFLE	COPY_MAP_DATA	153834000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5515207
+SHUFFLE	COMPRESS_BYTE_COUNT	1713172
+SHUFFLE	COPY_MAP_DATA	296728000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5504189
+SHUFFLE	COMPRESS_BYTE_COUNT	1710229
+SHUFFLE	COPY_MAP_DATA	478170000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5491919
+SHUFFLE	COMPRESS_BYTE_COUNT	1707405
+SHUFFLE	COPY_MAP_DATA	103689000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5491282
+SHUFFLE	COMPRESS_BYTE_COUNT	1706002
+SHUFFLE	COPY_MAP_DATA	229221000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5485683
+SHUFFLE	COMPRESS_BYTE_COUNT	1726949
+SHUFFLE	COPY_MAP_DATA	95543000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5529671
+SHUFFLE	COMPRESS_BYTE_COUNT	1718537
+SHUFFLE	COPY_MAP_DATA	2517120000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5534619
+SHUFFLE	COMPRESS_BYTE_COUNT	1720187
+SHUFFLE	COPY_MAP_DATA	265518000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5533272
+SHUFFLE	COMPRESS_BYTE_COUNT	1719005
+SHUFFLE	COPY_MAP_DATA	315724000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5420421
+SHUFFLE	COMPRESS_BYTE_COUNT	1732442
+SHUFFLE	COPY_MAP_DATA	328476000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5522515
+SHUFFLE	COMPRESS_BYTE_COUNT	1716315
+SHUFFLE	COPY_MAP_DATA	1215419000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5565212
+SHUFFLE	COMPRESS_BYTE_COUNT	1708556
+SHUFFLE	COPY_MAP_DATA	99015000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5527735
+SHUFFLE	COMPRESS_BYTE_COUNT	1718175
+SHUFFLE	COPY_MAP_DATA	93346000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5561445
+SHUFFLE	COMPRESS_BYTE_COUNT	1707333
+SHUFFLE	COPY_MAP_DATA	775241000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5509705
+SHUFFLE	COMPRESS_BYTE_COUNT	1712750
+SHUFFLE	COPY_MAP_DATA	98974000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5546212
+SHUFFLE	COMPRESS_BYTE_COUNT	1702656
+SHUFFLE	COPY_MAP_DATA	670697000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5516786
+SHUFFLE	COMPRESS_BYTE_COUNT	1713995
+SHUFFLE	COPY_MAP_DATA	578938000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5480886
+SHUFFLE	COMPRESS_BYTE_COUNT	1702907
+SHUFFLE	COPY_MAP_DATA	89897000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5477035
+SHUFFLE	COMPRESS_BYTE_COUNT	1703103
+SHUFFLE	COPY_MAP_DATA	427809000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5529802
+SHUFFLE	COMPRESS_BYTE_COUNT	1718782
+SHUFFLE	COPY_MAP_DATA	120354000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5582632
+SHUFFLE	COMPRESS_BYTE_COUNT	1712556
+SHUFFLE	COPY_MAP_DATA	851038000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5561920
+SHUFFLE	COMPRESS_BYTE_COUNT	1729621
+SHUFFLE	COPY_MAP_DATA	98207000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5502874
+SHUFFLE	COMPRESS_BYTE_COUNT	1731534
+SHUFFLE	COPY_MAP_DATA	90936000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5498471
+SHUFFLE	COMPRESS_BYTE_COUNT	1709561
+SHUFFLE	COPY_MAP_DATA	775051000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5565901
+SHUFFLE	COMPRESS_BYTE_COUNT	1729440
+SHUFFLE	COPY_MAP_DATA	3084115000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5549988
+SHUFFLE	COMPRESS_BYTE_COUNT	1724723
+SHUFFLE	COPY_MAP_DATA	8650530000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5576364
+SHUFFLE	COMPRESS_BYTE_COUNT	1712261
+SHUFFLE	COPY_MAP_DATA	573279000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5472826
+SHUFFLE	COMPRESS_BYTE_COUNT	1701952
+SHUFFLE	COPY_MAP_DATA	90599000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5527430
+SHUFFLE	COMPRESS_BYTE_COUNT	1717260
+SHUFFLE	COPY_MAP_DATA	1384338000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5472237
+SHUFFLE	COMPRESS_BYTE_COUNT	1681181
+SHUFFLE	COPY_MAP_DATA	249023000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5482766
+SHUFFLE	COMPRESS_BYTE_COUNT	1682976
+SHUFFLE	COPY_MAP_DATA	94363000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5571237
+SHUFFLE	COMPRESS_BYTE_COUNT	1711139
+SHUFFLE	COPY_MAP_DATA	95252000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5545751
+SHUFFLE	COMPRESS_BYTE_COUNT	1702377
+SHUFFLE	COPY_MAP_DATA	169075000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5443535
+SHUFFLE	COMPRESS_BYTE_COUNT	1693673
+SHUFFLE	COPY_MAP_DATA	88634000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5513426
+SHUFFLE	COMPRESS_BYTE_COUNT	1692749
+SHUFFLE	COPY_MAP_DATA	533771000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5501570
+SHUFFLE	COMPRESS_BYTE_COUNT	1706619
+SHUFFLE	COPY_MAP_DATA	93426000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5506914
+SHUFFLE	COMPRESS_BYTE_COUNT	1712993
+SHUFFLE	COPY_MAP_DATA	519945000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5569279
+SHUFFLE	COMPRESS_BYTE_COUNT	1708555
+SHUFFLE	COPY_MAP_DATA	235565000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5541856
+SHUFFLE	COMPRESS_BYTE_COUNT	1702412
+SHUFFLE	COPY_MAP_DATA	84005000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5558673
+SHUFFLE	COMPRESS_BYTE_COUNT	1706224
+SHUFFLE	COPY_MAP_DATA	1129705000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5502312
+SHUFFLE	COMPRESS_BYTE_COUNT	1689761
+SHUFFLE	COPY_MAP_DATA	1600748000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5586256
+SHUFFLE	COMPRESS_BYTE_COUNT	1715358
+SHUFFLE	COPY_MAP_DATA	2409759000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5540593
+SHUFFLE	COMPRESS_BYTE_COUNT	1700751
+SHUFFLE	COPY_MAP_DATA	5581431000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5553172
+SHUFFLE	COMPRESS_BYTE_COUNT	1703592
+SHUFFLE	COPY_MAP_DATA	156371000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5547481
+SHUFFLE	COMPRESS_BYTE_COUNT	1702588
+SHUFFLE	COPY_MAP_DATA	2153410000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5483487
+SHUFFLE	COMPRESS_BYTE_COUNT	1684622
+SHUFFLE	COPY_MAP_DATA	133664000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5539287
+SHUFFLE	COMPRESS_BYTE_COUNT	1699617
+SHUFFLE	COPY_MAP_DATA	312482000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5412906
+SHUFFLE	COMPRESS_BYTE_COUNT	1701106
+SHUFFLE	COPY_MAP_DATA	91601000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5550748
+SHUFFLE	COMPRESS_BYTE_COUNT	1702559
+SHUFFLE	COPY_MAP_DATA	95584000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5540146
+SHUFFLE	COMPRESS_BYTE_COUNT	1700592
+SHUFFLE	COPY_MAP_DATA	120906000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5536578
+SHUFFLE	COMPRESS_BYTE_COUNT	1699608
+SHUFFLE	COPY_MAP_DATA	151526000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5496262
+SHUFFLE	COMPRESS_BYTE_COUNT	1731012
+SHUFFLE	COPY_MAP_DATA	280797000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5528451
+SHUFFLE	COMPRESS_BYTE_COUNT	1698183
+SHUFFLE	COPY_MAP_DATA	306562000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5556218
+SHUFFLE	COMPRESS_BYTE_COUNT	1703916
+SHUFFLE	COPY_MAP_DATA	197881000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5556499
+SHUFFLE	COMPRESS_BYTE_COUNT	1704793
+SHUFFLE	COPY_MAP_DATA	87645000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5530314
+SHUFFLE	COMPRESS_BYTE_COUNT	1697206
+SHUFFLE	COPY_MAP_DATA	167214000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5572181
+SHUFFLE	COMPRESS_BYTE_COUNT	1709860
+SHUFFLE	COPY_MAP_DATA	91125000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5536288
+SHUFFLE	COMPRESS_BYTE_COUNT	1699234
+SHUFFLE	COPY_MAP_DATA	752679000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5498037
+SHUFFLE	COMPRESS_BYTE_COUNT	1686772
+SHUFFLE	COPY_MAP_DATA	509707000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5572587
+SHUFFLE	COMPRESS_BYTE_COUNT	1710518
+SHUFFLE	COPY_MAP_DATA	204264000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5562428
+SHUFFLE	COMPRESS_BYTE_COUNT	1708326
+SHUFFLE	COPY_MAP_DATA	122479000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5558616
+SHUFFLE	COMPRESS_BYTE_COUNT	1705329
+SHUFFLE	COPY_MAP_DATA	88612000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5568085
+SHUFFLE	COMPRESS_BYTE_COUNT	1709233
+SHUFFLE	COPY_MAP_DATA	1336086000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5490013
+SHUFFLE	COMPRESS_BYTE_COUNT	1727501
+SHUFFLE	COPY_MAP_DATA	89890000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5511400
+SHUFFLE	COMPRESS_BYTE_COUNT	1691750
+SHUFFLE	COPY_MAP_DATA	87954000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5594858
+SHUFFLE	COMPRESS_BYTE_COUNT	1716330
+SHUFFLE	COPY_MAP_DATA	178910000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5550858
+SHUFFLE	COMPRESS_BYTE_COUNT	1704063
+SHUFFLE	COPY_MAP_DATA	120613000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5522056
+SHUFFLE	COMPRESS_BYTE_COUNT	1694961
+SHUFFLE	COPY_MAP_DATA	106659000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5563386
+SHUFFLE	COMPRESS_BYTE_COUNT	1707815
+SHUFFLE	COPY_MAP_DATA	402841000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5539263
+SHUFFLE	COMPRESS_BYTE_COUNT	1700713
+SHUFFLE	COPY_MAP_DATA	328583000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5564201
+SHUFFLE	COMPRESS_BYTE_COUNT	1707835
+SHUFFLE	COPY_MAP_DATA	88758000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5519213
+SHUFFLE	COMPRESS_BYTE_COUNT	1693268
+SHUFFLE	COPY_MAP_DATA	136389000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5548232
+SHUFFLE	COMPRESS_BYTE_COUNT	1702988
+SHUFFLE	COPY_MAP_DATA	94492000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5525576
+SHUFFLE	COMPRESS_BYTE_COUNT	1696711
+SHUFFLE	COPY_MAP_DATA	196842000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5577412
+SHUFFLE	COMPRESS_BYTE_COUNT	1712389
+SHUFFLE	COPY_MAP_DATA	141010000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5519656
+SHUFFLE	COMPRESS_BYTE_COUNT	1695521
+SHUFFLE	COPY_MAP_DATA	113719000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5524520
+SHUFFLE	COMPRESS_BYTE_COUNT	1717473
+SHUFFLE	COPY_MAP_DATA	108590000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5519291
+SHUFFLE	COMPRESS_BYTE_COUNT	1695444
+SHUFFLE	COPY_MAP_DATA	634611000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5496666
+SHUFFLE	COMPRESS_BYTE_COUNT	1687734
+SHUFFLE	COPY_MAP_DATA	88758000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5558381
+SHUFFLE	COMPRESS_BYTE_COUNT	1705643
+SHUFFLE	COPY_MAP_DATA	87643000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5527588
+SHUFFLE	COMPRESS_BYTE_COUNT	1696604
+SHUFFLE	COPY_MAP_DATA	97655000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5532675
+SHUFFLE	COMPRESS_BYTE_COUNT	1697636
+SHUFFLE	COPY_MAP_DATA	120668000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5513626
+SHUFFLE	COMPRESS_BYTE_COUNT	1714354
+SHUFFLE	COPY_MAP_DATA	2354256000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5485932
+SHUFFLE	COMPRESS_BYTE_COUNT	1684952
+SHUFFLE	COPY_MAP_DATA	234318000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5587662
+SHUFFLE	COMPRESS_BYTE_COUNT	1715080
+SHUFFLE	COPY_MAP_DATA	174551000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5513275
+SHUFFLE	COMPRESS_BYTE_COUNT	1692398
+SHUFFLE	COPY_MAP_DATA	122808000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5556986
+SHUFFLE	COMPRESS_BYTE_COUNT	1705006
+SHUFFLE	COPY_MAP_DATA	702324000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5528848
+SHUFFLE	COMPRESS_BYTE_COUNT	1718469
+SHUFFLE	COPY_MAP_DATA	170277000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5475224
+SHUFFLE	COMPRESS_BYTE_COUNT	1681598
+SHUFFLE	COPY_MAP_DATA	87036000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5561291
+SHUFFLE	COMPRESS_BYTE_COUNT	1707436
+SHUFFLE	COPY_MAP_DATA	129973000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5534273
+SHUFFLE	COMPRESS_BYTE_COUNT	1718703
+SHUFFLE	COPY_MAP_DATA	90878000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5585362
+SHUFFLE	COMPRESS_BYTE_COUNT	1713928
+SHUFFLE	COPY_MAP_DATA	331515000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5519989
+SHUFFLE	COMPRESS_BYTE_COUNT	1714796
+SHUFFLE	COPY_MAP_DATA	161908000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5550771
+SHUFFLE	COMPRESS_BYTE_COUNT	1703063
+SHUFFLE	COPY_MAP_DATA	88636000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5522230
+SHUFFLE	COMPRESS_BYTE_COUNT	1717254
+SHUFFLE	COPY_MAP_DATA	101930000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5516087
+SHUFFLE	COMPRESS_BYTE_COUNT	1693404
+SHUFFLE	COPY_MAP_DATA	241783000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5510704
+SHUFFLE	COMPRESS_BYTE_COUNT	1713032
+SHUFFLE	COPY_MAP_DATA	271389000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5485751
+SHUFFLE	COMPRESS_BYTE_COUNT	1684016
+SHUFFLE	COPY_MAP_DATA	993455000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5513040
+SHUFFLE	COMPRESS_BYTE_COUNT	1692547
+SHUFFLE	COPY_MAP_DATA	89296000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5496973
+SHUFFLE	COMPRESS_BYTE_COUNT	1708696
+SHUFFLE	COPY_MAP_DATA	104471000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5507299
+SHUFFLE	COMPRESS_BYTE_COUNT	1712771
+SHUFFLE	COPY_MAP_DATA	372782000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5508710
+SHUFFLE	COMPRESS_BYTE_COUNT	1690949
+SHUFFLE	COPY_MAP_DATA	89984000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5543930
+SHUFFLE	COMPRESS_BYTE_COUNT	1702362
+SHUFFLE	COPY_MAP_DATA	841155000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5485061
+SHUFFLE	COMPRESS_BYTE_COUNT	1704411
+SHUFFLE	COPY_MAP_DATA	83450000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5567443
+SHUFFLE	COMPRESS_BYTE_COUNT	1730588
+SHUFFLE	COPY_MAP_DATA	4082129000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5508904
+SHUFFLE	COMPRESS_BYTE_COUNT	1712574
+SHUFFLE	COPY_MAP_DATA	104277000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5495441
+SHUFFLE	COMPRESS_BYTE_COUNT	1708406
+SHUFFLE	COPY_MAP_DATA	90403000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5465234
+SHUFFLE	COMPRESS_BYTE_COUNT	1698544
+SHUFFLE	COPY_MAP_DATA	88154000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5527281
+SHUFFLE	COMPRESS_BYTE_COUNT	1717323
+SHUFFLE	COPY_MAP_DATA	97469000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5452023
+SHUFFLE	COMPRESS_BYTE_COUNT	1694044
+SHUFFLE	COPY_MAP_DATA	3231771000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5475573
+SHUFFLE	COMPRESS_BYTE_COUNT	1681106
+SHUFFLE	COPY_MAP_DATA	94745000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5492291
+SHUFFLE	COMPRESS_BYTE_COUNT	1709014
+SHUFFLE	COPY_MAP_DATA	198772000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5453571
+SHUFFLE	COMPRESS_BYTE_COUNT	1695509
+SHUFFLE	COPY_MAP_DATA	83365000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5551887
+SHUFFLE	COMPRESS_BYTE_COUNT	1725632
+SHUFFLE	COPY_MAP_DATA	855580000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5524717
+SHUFFLE	COMPRESS_BYTE_COUNT	1717198
+SHUFFLE	COPY_MAP_DATA	121808000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5526386
+SHUFFLE	COMPRESS_BYTE_COUNT	1717217
+SHUFFLE	COPY_MAP_DATA	83616000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5555778
+SHUFFLE	COMPRESS_BYTE_COUNT	1729385
+SHUFFLE	COPY_MAP_DATA	246980000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5557064
+SHUFFLE	COMPRESS_BYTE_COUNT	1726638
+SHUFFLE	COPY_MAP_DATA	113054000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5531697
+SHUFFLE	COMPRESS_BYTE_COUNT	1719874
+SHUFFLE	COPY_MAP_DATA	543579000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5513095
+SHUFFLE	COMPRESS_BYTE_COUNT	1713744
+SHUFFLE	COPY_MAP_DATA	179870000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5430140
+SHUFFLE	COMPRESS_BYTE_COUNT	1688517
+SHUFFLE	COPY_MAP_DATA	83070000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5549980
+SHUFFLE	COMPRESS_BYTE_COUNT	1724033
+SHUFFLE	COPY_MAP_DATA	255089000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5514616
+SHUFFLE	COMPRESS_BYTE_COUNT	1714620
+SHUFFLE	COPY_MAP_DATA	89033000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5558426
+SHUFFLE	COMPRESS_BYTE_COUNT	1731914
+SHUFFLE	COPY_MAP_DATA	85895000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5518849
+SHUFFLE	COMPRESS_BYTE_COUNT	1714903
+SHUFFLE	COPY_MAP_DATA	91240000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5467512
+SHUFFLE	COMPRESS_BYTE_COUNT	1699192
+SHUFFLE	COPY_MAP_DATA	209966000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5529259
+SHUFFLE	COMPRESS_BYTE_COUNT	1718169
+SHUFFLE	COPY_MAP_DATA	88947000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5565636
+SHUFFLE	COMPRESS_BYTE_COUNT	1733890
+SHUFFLE	COPY_MAP_DATA	90586000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5472421
+SHUFFLE	COMPRESS_BYTE_COUNT	1702185
+SHUFFLE	COPY_MAP_DATA	312386000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5528092
+SHUFFLE	COMPRESS_BYTE_COUNT	1717667
+SHUFFLE	COPY_MAP_DATA	125276000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5544153
+SHUFFLE	COMPRESS_BYTE_COUNT	1727985
+SHUFFLE	COPY_MAP_DATA	1322711000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5519630
+SHUFFLE	COMPRESS_BYTE_COUNT	1717143
+SHUFFLE	COPY_MAP_DATA	91668000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5566074
+SHUFFLE	COMPRESS_BYTE_COUNT	1733508
+SHUFFLE	COPY_MAP_DATA	186835000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5521347
+SHUFFLE	COMPRESS_BYTE_COUNT	1736705
+SHUFFLE	COPY_MAP_DATA	147593000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5456056
+SHUFFLE	COMPRESS_BYTE_COUNT	1696496
+SHUFFLE	COPY_MAP_DATA	173272000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5526008
+SHUFFLE	COMPRESS_BYTE_COUNT	1717230
+SHUFFLE	COPY_MAP_DATA	461732000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5557369
+SHUFFLE	COMPRESS_BYTE_COUNT	1729995
+SHUFFLE	COPY_MAP_DATA	88553000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5566912
+SHUFFLE	COMPRESS_BYTE_COUNT	1731522
+SHUFFLE	COPY_MAP_DATA	206846000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5584928
+SHUFFLE	COMPRESS_BYTE_COUNT	1723764
+SHUFFLE	COPY_MAP_DATA	658762000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5511971
+SHUFFLE	COMPRESS_BYTE_COUNT	1747216
+SHUFFLE	COPY_MAP_DATA	220828000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5589149
+SHUFFLE	COMPRESS_BYTE_COUNT	1725702
+SHUFFLE	COPY_MAP_DATA	2495195000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4677565
+SHUFFLE	COMPRESS_BYTE_COUNT	1436113
+SHUFFLE	COPY_MAP_DATA	229376000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4717238
+SHUFFLE	COMPRESS_BYTE_COUNT	1448228
+SHUFFLE	COPY_MAP_DATA	71770000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5588777
+SHUFFLE	COMPRESS_BYTE_COUNT	1725461
+SHUFFLE	COPY_MAP_DATA	156264000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5586113
+SHUFFLE	COMPRESS_BYTE_COUNT	1724806
+SHUFFLE	COPY_MAP_DATA	400832000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4472845
+SHUFFLE	COMPRESS_BYTE_COUNT	1390648
+SHUFFLE	COPY_MAP_DATA	72198000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4511672
+SHUFFLE	COMPRESS_BYTE_COUNT	1401729
+SHUFFLE	COPY_MAP_DATA	877262000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5590573
+SHUFFLE	COMPRESS_BYTE_COUNT	1726616
+SHUFFLE	COPY_MAP_DATA	1107350000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4763373
+SHUFFLE	COMPRESS_BYTE_COUNT	1462453
+SHUFFLE	COPY_MAP_DATA	79692000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5588676
+SHUFFLE	COMPRESS_BYTE_COUNT	1724848
+SHUFFLE	COPY_MAP_DATA	101373000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5591003
+SHUFFLE	COMPRESS_BYTE_COUNT	1725777
+SHUFFLE	COPY_MAP_DATA	137891000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5599583
+SHUFFLE	COMPRESS_BYTE_COUNT	1728149
+SHUFFLE	COPY_MAP_DATA	90514000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4765405
+SHUFFLE	COMPRESS_BYTE_COUNT	1462611
+SHUFFLE	COPY_MAP_DATA	193022000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5595920
+SHUFFLE	COMPRESS_BYTE_COUNT	1727253
+SHUFFLE	COPY_MAP_DATA	303815000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5548178
+SHUFFLE	COMPRESS_BYTE_COUNT	1728826
+SHUFFLE	COPY_MAP_DATA	106636000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5586527
+SHUFFLE	COMPRESS_BYTE_COUNT	1725151
+SHUFFLE	COPY_MAP_DATA	190799000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5603286
+SHUFFLE	COMPRESS_BYTE_COUNT	1729800
+SHUFFLE	COPY_MAP_DATA	96900000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4738571
+SHUFFLE	COMPRESS_BYTE_COUNT	1454626
+SHUFFLE	COPY_MAP_DATA	114368000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4747733
+SHUFFLE	COMPRESS_BYTE_COUNT	1457539
+SHUFFLE	COPY_MAP_DATA	72541000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5596681
+SHUFFLE	COMPRESS_BYTE_COUNT	1727364
+SHUFFLE	COPY_MAP_DATA	151966000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4745547
+SHUFFLE	COMPRESS_BYTE_COUNT	1456904
+SHUFFLE	COPY_MAP_DATA	119679000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5570640
+SHUFFLE	COMPRESS_BYTE_COUNT	1735434
+SHUFFLE	COPY_MAP_DATA	140640000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5542999
+SHUFFLE	COMPRESS_BYTE_COUNT	1728836
+SHUFFLE	COPY_MAP_DATA	301546000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5548429
+SHUFFLE	COMPRESS_BYTE_COUNT	1727076
+SHUFFLE	COPY_MAP_DATA	125816000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1737910
+SHUFFLE	COMPRESS_BYTE_COUNT	537106
+SHUFFLE	COPY_MAP_DATA	164800000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5554811
+SHUFFLE	COMPRESS_BYTE_COUNT	1730927
+SHUFFLE	COPY_MAP_DATA	91222000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5549898
+SHUFFLE	COMPRESS_BYTE_COUNT	1729181
+SHUFFLE	COPY_MAP_DATA	688395000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4759943
+SHUFFLE	COMPRESS_BYTE_COUNT	1461090
+SHUFFLE	COPY_MAP_DATA	108937000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4691044
+SHUFFLE	COMPRESS_BYTE_COUNT	1440020
+SHUFFLE	COPY_MAP_DATA	77144000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4492659
+SHUFFLE	COMPRESS_BYTE_COUNT	1397275
+SHUFFLE	COPY_MAP_DATA	76295000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5564351
+SHUFFLE	COMPRESS_BYTE_COUNT	1733791
+SHUFFLE	COPY_MAP_DATA	92601000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4433131
+SHUFFLE	COMPRESS_BYTE_COUNT	1377947
+SHUFFLE	COPY_MAP_DATA	157964000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4482692
+SHUFFLE	COMPRESS_BYTE_COUNT	1393816
+SHUFFLE	COPY_MAP_DATA	78412000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5585274
+SHUFFLE	COMPRESS_BYTE_COUNT	1723826
+SHUFFLE	COPY_MAP_DATA	1201546000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4462513
+SHUFFLE	COMPRESS_BYTE_COUNT	1386481
+SHUFFLE	COPY_MAP_DATA	424313000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4296375
+SHUFFLE	COMPRESS_BYTE_COUNT	1334644
+SHUFFLE	COPY_MAP_DATA	67262000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1738099
+SHUFFLE	COMPRESS_BYTE_COUNT	538036
+SHUFFLE	COPY_MAP_DATA	9880538000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1736417
+SHUFFLE	COMPRESS_BYTE_COUNT	536594
+SHUFFLE	COPY_MAP_DATA	70733000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1739667
+SHUFFLE	COMPRESS_BYTE_COUNT	537660
+SHUFFLE	COPY_MAP_DATA	567661000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1668302
+SHUFFLE	COMPRESS_BYTE_COUNT	520645
+SHUFFLE	COPY_MAP_DATA	43448000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1744501
+SHUFFLE	COMPRESS_BYTE_COUNT	539592
+SHUFFLE	COPY_MAP_DATA	30935000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1740631
+SHUFFLE	COMPRESS_BYTE_COUNT	538650
+SHUFFLE	COPY_MAP_DATA	30003000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1737566
+SHUFFLE	COMPRESS_BYTE_COUNT	537133
+SHUFFLE	COPY_MAP_DATA	28474000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4469907
+SHUFFLE	COMPRESS_BYTE_COUNT	1388881
+SHUFFLE	COPY_MAP_DATA	72498000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5551562
+SHUFFLE	COMPRESS_BYTE_COUNT	1729183
+SHUFFLE	COPY_MAP_DATA	400555000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1665237
+SHUFFLE	COMPRESS_BYTE_COUNT	519722
+SHUFFLE	COPY_MAP_DATA	28150000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4708740
+SHUFFLE	COMPRESS_BYTE_COUNT	1445610
+SHUFFLE	COPY_MAP_DATA	74777000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1735311
+SHUFFLE	COMPRESS_BYTE_COUNT	536541
+SHUFFLE	COPY_MAP_DATA	57855000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4426730
+SHUFFLE	COMPRESS_BYTE_COUNT	1375849
+SHUFFLE	COPY_MAP_DATA	86673000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1665049
+SHUFFLE	COMPRESS_BYTE_COUNT	519875
+SHUFFLE	COPY_MAP_DATA	29331000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1735114
+SHUFFLE	COMPRESS_BYTE_COUNT	535745
+SHUFFLE	COPY_MAP_DATA	94166000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1664133
+SHUFFLE	COMPRESS_BYTE_COUNT	519217
+SHUFFLE	COPY_MAP_DATA	35945000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1670496
+SHUFFLE	COMPRESS_BYTE_COUNT	520421
+SHUFFLE	COPY_MAP_DATA	27525000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1666912
+SHUFFLE	COMPRESS_BYTE_COUNT	520470
+SHUFFLE	COPY_MAP_DATA	35475000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4485285
+SHUFFLE	COMPRESS_BYTE_COUNT	1395421
+SHUFFLE	COPY_MAP_DATA	318855000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4770082
+SHUFFLE	COMPRESS_BYTE_COUNT	1463730
+SHUFFLE	COPY_MAP_DATA	81261000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4730312
+SHUFFLE	COMPRESS_BYTE_COUNT	1452859
+SHUFFLE	COPY_MAP_DATA	75800000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4574840
+SHUFFLE	COMPRESS_BYTE_COUNT	1404681
+SHUFFLE	COPY_MAP_DATA	447942000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1664289
+SHUFFLE	COMPRESS_BYTE_COUNT	519446
+SHUFFLE	COPY_MAP_DATA	129053000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4410695
+SHUFFLE	COMPRESS_BYTE_COUNT	1370992
+SHUFFLE	COPY_MAP_DATA	70507000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4121015
+SHUFFLE	COMPRESS_BYTE_COUNT	1298200
+SHUFFLE	COPY_MAP_DATA	351374000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4422012
+SHUFFLE	COMPRESS_BYTE_COUNT	1374723
+SHUFFLE	COPY_MAP_DATA	70455000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1739389
+SHUFFLE	COMPRESS_BYTE_COUNT	537936
+SHUFFLE	COPY_MAP_DATA	29334000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4479187
+SHUFFLE	COMPRESS_BYTE_COUNT	1392673
+SHUFFLE	COPY_MAP_DATA	71610000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4470307
+SHUFFLE	COMPRESS_BYTE_COUNT	1389651
+SHUFFLE	COPY_MAP_DATA	71097000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4749732
+SHUFFLE	COMPRESS_BYTE_COUNT	1458020
+SHUFFLE	COPY_MAP_DATA	226041000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1744123
+SHUFFLE	COMPRESS_BYTE_COUNT	539176
+SHUFFLE	COPY_MAP_DATA	63279000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1660924
+SHUFFLE	COMPRESS_BYTE_COUNT	518335
+SHUFFLE	COPY_MAP_DATA	58671000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1663582
+SHUFFLE	COMPRESS_BYTE_COUNT	519550
+SHUFFLE	COPY_MAP_DATA	30362000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1739824
+SHUFFLE	COMPRESS_BYTE_COUNT	538164
+SHUFFLE	COPY_MAP_DATA	47603000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1741552
+SHUFFLE	COMPRESS_BYTE_COUNT	538700
+SHUFFLE	COPY_MAP_DATA	329544000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1579203
+SHUFFLE	COMPRESS_BYTE_COUNT	498051
+SHUFFLE	COPY_MAP_DATA	26968000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1659893
+SHUFFLE	COMPRESS_BYTE_COUNT	518085
+SHUFFLE	COPY_MAP_DATA	27478000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1663354
+SHUFFLE	COMPRESS_BYTE_COUNT	519117
+SHUFFLE	COPY_MAP_DATA	27988000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1702740
+SHUFFLE	COMPRESS_BYTE_COUNT	526646
+SHUFFLE	COPY_MAP_DATA	28714000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1665710
+SHUFFLE	COMPRESS_BYTE_COUNT	519218
+SHUFFLE	COPY_MAP_DATA	28240000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1663807
+SHUFFLE	COMPRESS_BYTE_COUNT	519482
+SHUFFLE	COPY_MAP_DATA	28316000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1623880
+SHUFFLE	COMPRESS_BYTE_COUNT	506307
+SHUFFLE	COPY_MAP_DATA	53530000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1660479
+SHUFFLE	COMPRESS_BYTE_COUNT	517966
+SHUFFLE	COPY_MAP_DATA	27976000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4489807
+SHUFFLE	COMPRESS_BYTE_COUNT	1395920
+SHUFFLE	COPY_MAP_DATA	110999000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	332671870000
+MERGE	READ_WRITE	325102114000
+MERGE	READ_WRITE_COUNT	8
+MERGE	COMBINE	0
+MERGE	WRITE	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	8964445000
+SORT	READ_WRITE	8896033000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	203297840
+REDUCE	SETUP	501000
+REDUCE	SETUP_MEM	203297840
+REDUCE	CLEANUP	41000
+REDUCE	CLEANUP_MEM	49570176
+REDUCE	TOTAL_RUN	427559448927
+REDUCE	READ	7414892000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	411268277927
+REDUCE	WRITE	225314412000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	55831087
+REDUCE	VALUE_BYTE_COUNT	1646272321
+REDUCE	REDUCE_MEM	49570176
+REDUCE	WRITE	67203000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	1102807669927
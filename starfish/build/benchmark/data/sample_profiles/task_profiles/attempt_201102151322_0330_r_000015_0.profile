@@ -0,0 +1,989 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5511923
+SHUFFLE	COMPRESS_BYTE_COUNT	1712650
+SHUFFLE	COPY_MAP_DATA	535904000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5438778
+SHUFFLE	COMPRESS_BYTE_COUNT	1711727
+SHUFFLE	COPY_MAP_DATA	130241000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5550782
+SHUFFLE	COMPRESS_BYTE_COUNT	1724273
+SHUFFLE	COPY_MAP_DATA	244214000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5543321
+SHUFFLE	COMPRESS_BYTE_COUNT	1721795
+SHUFFLE	COPY_MAP_DATA	354012000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5544738
+SHUFFLE	COMPRESS_BYTE_COUNT	1723200
+SHUFFLE	COPY_MAP_DATA	310901000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5525977
+SHUFFLE	COMPRESS_BYTE_COUNT	1717316
+SHUFFLE	COPY_MAP_DATA	104148000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5548286
+SHUFFLE	COMPRESS_BYTE_COUNT	1724608
+SHUFFLE	COPY_MAP_DATA	261546000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5569182
+SHUFFLE	COMPRESS_BYTE_COUNT	1730474
+SHUFFLE	COPY_MAP_DATA	147526000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5501927
+SHUFFLE	COMPRESS_BYTE_COUNT	1710185
+SHUFFLE	COPY_MAP_DATA	169067000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5482513
+SHUFFLE	COMPRESS_BYTE_COUNT	1703611
+SHUFFLE	COPY_MAP_DATA	125752000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5574422
+SHUFFLE	COMPRESS_BYTE_COUNT	1710724
+SHUFFLE	COPY_MAP_DATA	697608000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5522439
+SHUFFLE	COMPRESS_BYTE_COUNT	1715931
+SHUFFLE	COPY_MAP_DATA	90436000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5360257
+SHUFFLE	COMPRESS_BYTE_COUNT	1688492
+SHUFFLE	COPY_MAP_DATA	87276000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5563177
+SHUFFLE	COMPRESS_BYTE_COUNT	1728704
+SHUFFLE	COPY_MAP_DATA	123923000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5550632
+SHUFFLE	COMPRESS_BYTE_COUNT	1724154
+SHUFFLE	COPY_MAP_DATA	150623000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5508842
+SHUFFLE	COMPRESS_BYTE_COUNT	1733848
+SHUFFLE	COPY_MAP_DATA	85475000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5587324
+SHUFFLE	COMPRESS_BYTE_COUNT	1736210
+SHUFFLE	COPY_MAP_DATA	219351000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5538567
+SHUFFLE	COMPRESS_BYTE_COUNT	1721592
+SHUFFLE	COPY_MAP_DATA	135461000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5521610
+SHUFFLE	COMPRESS_BYTE_COUNT	1715716
+SHUFFLE	COPY_MAP_DATA	152970000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5496105
+SHUFFLE	COMPRESS_BYTE_COUNT	1708710
+SHUFFLE	COPY_MAP_DATA	162965000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5560116
+SHUFFLE	COMPRESS_BYTE_COUNT	1727812
+SHUFFLE	COPY_MAP_DATA	679255000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5479610
+SHUFFLE	COMPRESS_BYTE_COUNT	1725741
+SHUFFLE	COPY_MAP_DATA	86846000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5584809
+SHUFFLE	COMPRESS_BYTE_COUNT	1734981
+SHUFFLE	COPY_MAP_DATA	141085000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5530110
+SHUFFLE	COMPRESS_BYTE_COUNT	1718447
+SHUFFLE	COPY_MAP_DATA	228903000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5498999
+SHUFFLE	COMPRESS_BYTE_COUNT	1708121
+SHUFFLE	COPY_MAP_DATA	396578000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5471544
+SHUFFLE	COMPRESS_BYTE_COUNT	1700826
+SHUFFLE	COPY_MAP_DATA	1590080000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5493654
+SHUFFLE	COMPRESS_BYTE_COUNT	1706708
+SHUFFLE	COPY_MAP_DATA	778774000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5543287
+SHUFFLE	COMPRESS_BYTE_COUNT	1721711
+SHUFFLE	COPY_MAP_DATA	100780000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5450881
+SHUFFLE	COMPRESS_BYTE_COUNT	1694657
+SHUFFLE	COPY_MAP_DATA	4072524000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5431408
+SHUFFLE	COMPRESS_BYTE_COUNT	1736701
+SHUFFLE	COPY_MAP_DATA	110370000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5545951
+SHUFFLE	COMPRESS_BYTE_COUNT	1724173
+SHUFFLE	COPY_MAP_DATA	1069185000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5500616
+SHUFFLE	COMPRESS_BYTE_COUNT	1688317
+SHUFFLE	COPY_MAP_DATA	88312000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5490659
+SHUFFLE	COMPRESS_BYTE_COUNT	1685479
+SHUFFLE	COPY_MAP_DATA	96008000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5574416
+SHUFFLE	COMPRESS_BYTE_COUNT	1732667
+SHUFFLE	COPY_MAP_DATA	93127000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5498505
+SHUFFLE	COMPRESS_BYTE_COUNT	1708882
+SHUFFLE	COPY_MAP_DATA	247063000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5543130
+SHUFFLE	COMPRESS_BYTE_COUNT	1724291
+SHUFFLE	COPY_MAP_DATA	84294000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5514995
+SHUFFLE	COMPRESS_BYTE_COUNT	1713173
+SHUFFLE	COPY_MAP_DATA	3245442000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5554362
+SHUFFLE	COMPRESS_BYTE_COUNT	1705015
+SHUFFLE	COPY_MAP_DATA	663164000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5532211
+SHUFFLE	COMPRESS_BYTE_COUNT	1718877
+SHUFFLE	COPY_MAP_DATA	171316000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5563772
+SHUFFLE	COMPRESS_BYTE_COUNT	1708893
+SHUFFLE	COPY_MAP_DATA	109280000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5609551
+SHUFFLE	COMPRESS_BYTE_COUNT	1742655
+SHUFFLE	COPY_MAP_DATA	350939000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5451707
+SHUFFLE	COMPRESS_BYTE_COUNT	1717268
+SHUFFLE	COPY_MAP_DATA	394579000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5512326
+SHUFFLE	COMPRESS_BYTE_COUNT	1712972
+SHUFFLE	COPY_MAP_DATA	84014000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5538284
+SHUFFLE	COMPRESS_BYTE_COUNT	1719831
+SHUFFLE	COPY_MAP_DATA	2698243000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5507518
+SHUFFLE	COMPRESS_BYTE_COUNT	1712661
+SHUFFLE	COPY_MAP_DATA	9219155000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5579396
+SHUFFLE	COMPRESS_BYTE_COUNT	1713367
+SHUFFLE	COPY_MAP_DATA	105499000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5550730
+SHUFFLE	COMPRESS_BYTE_COUNT	1724649
+SHUFFLE	COPY_MAP_DATA	1571354000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5510405
+SHUFFLE	COMPRESS_BYTE_COUNT	1712734
+SHUFFLE	COPY_MAP_DATA	154265000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5515015
+SHUFFLE	COMPRESS_BYTE_COUNT	1691738
+SHUFFLE	COPY_MAP_DATA	376994000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5552356
+SHUFFLE	COMPRESS_BYTE_COUNT	1725183
+SHUFFLE	COPY_MAP_DATA	773776000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5550901
+SHUFFLE	COMPRESS_BYTE_COUNT	1703544
+SHUFFLE	COPY_MAP_DATA	231168000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5498707
+SHUFFLE	COMPRESS_BYTE_COUNT	1689453
+SHUFFLE	COPY_MAP_DATA	107614000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5543328
+SHUFFLE	COMPRESS_BYTE_COUNT	1723074
+SHUFFLE	COPY_MAP_DATA	5965683000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5516795
+SHUFFLE	COMPRESS_BYTE_COUNT	1693543
+SHUFFLE	COPY_MAP_DATA	274940000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5588550
+SHUFFLE	COMPRESS_BYTE_COUNT	1715489
+SHUFFLE	COPY_MAP_DATA	3073208000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5483251
+SHUFFLE	COMPRESS_BYTE_COUNT	1701294
+SHUFFLE	COPY_MAP_DATA	3609610000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5528597
+SHUFFLE	COMPRESS_BYTE_COUNT	1718497
+SHUFFLE	COPY_MAP_DATA	2783352000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5602711
+SHUFFLE	COMPRESS_BYTE_COUNT	1719147
+SHUFFLE	COPY_MAP_DATA	88239000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5490611
+SHUFFLE	COMPRESS_BYTE_COUNT	1685601
+SHUFFLE	COPY_MAP_DATA	84843000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5541708
+SHUFFLE	COMPRESS_BYTE_COUNT	1702093
+SHUFFLE	COPY_MAP_DATA	94675000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5548682
+SHUFFLE	COMPRESS_BYTE_COUNT	1702798
+SHUFFLE	COPY_MAP_DATA	499720000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5536670
+SHUFFLE	COMPRESS_BYTE_COUNT	1698296
+SHUFFLE	COPY_MAP_DATA	473298000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5529799
+SHUFFLE	COMPRESS_BYTE_COUNT	1698143
+SHUFFLE	COPY_MAP_DATA	4439511000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5535224
+SHUFFLE	COMPRESS_BYTE_COUNT	1698531
+SHUFFLE	COPY_MAP_DATA	88603000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5539463
+SHUFFLE	COMPRESS_BYTE_COUNT	1700584
+SHUFFLE	COPY_MAP_DATA	454322000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5574610
+SHUFFLE	COMPRESS_BYTE_COUNT	1711058
+SHUFFLE	COPY_MAP_DATA	2932270000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5503740
+SHUFFLE	COMPRESS_BYTE_COUNT	1689319
+SHUFFLE	COPY_MAP_DATA	81807000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5460734
+SHUFFLE	COMPRESS_BYTE_COUNT	1720231
+SHUFFLE	COPY_MAP_DATA	381523000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5464616
+SHUFFLE	COMPRESS_BYTE_COUNT	1715229
+SHUFFLE	COPY_MAP_DATA	278252000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5533721
+SHUFFLE	COMPRESS_BYTE_COUNT	1699220
+SHUFFLE	COPY_MAP_DATA	87853000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5530753
+SHUFFLE	COMPRESS_BYTE_COUNT	1697226
+SHUFFLE	COPY_MAP_DATA	184865000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5592015
+SHUFFLE	COMPRESS_BYTE_COUNT	1717620
+SHUFFLE	COPY_MAP_DATA	686133000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5582145
+SHUFFLE	COMPRESS_BYTE_COUNT	1714703
+SHUFFLE	COPY_MAP_DATA	724976000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5566376
+SHUFFLE	COMPRESS_BYTE_COUNT	1708348
+SHUFFLE	COPY_MAP_DATA	463013000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5506515
+SHUFFLE	COMPRESS_BYTE_COUNT	1691008
+SHUFFLE	COPY_MAP_DATA	84984000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5570256
+SHUFFLE	COMPRESS_BYTE_COUNT	1709174
+SHUFFLE	COPY_MAP_DATA	288596000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5587208
+SHUFFLE	COMPRESS_BYTE_COUNT	1714863
+SHUFFLE	COPY_MAP_DATA	87835000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5617108
+SHUFFLE	COMPRESS_BYTE_COUNT	1722837
+SHUFFLE	COPY_MAP_DATA	753127000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5596779
+SHUFFLE	COMPRESS_BYTE_COUNT	1718251
+SHUFFLE	COPY_MAP_DATA	174772000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5548994
+SHUFFLE	COMPRESS_BYTE_COUNT	1703763
+SHUFFLE	COPY_MAP_DATA	1813278000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5556737
+SHUFFLE	COMPRESS_BYTE_COUNT	1705167
+SHUFFLE	COPY_MAP_DATA	88608000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5589017
+SHUFFLE	COMPRESS_BYTE_COUNT	1716745
+SHUFFLE	COPY_MAP_DATA	107087000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5538255
+SHUFFLE	COMPRESS_BYTE_COUNT	1700587
+SHUFFLE	COPY_MAP_DATA	737096000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5462827
+SHUFFLE	COMPRESS_BYTE_COUNT	1719288
+SHUFFLE	COPY_MAP_DATA	395183000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5597159
+SHUFFLE	COMPRESS_BYTE_COUNT	1718884
+SHUFFLE	COPY_MAP_DATA	675341000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5557244
+SHUFFLE	COMPRESS_BYTE_COUNT	1705656
+SHUFFLE	COPY_MAP_DATA	590806000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5512444
+SHUFFLE	COMPRESS_BYTE_COUNT	1691332
+SHUFFLE	COPY_MAP_DATA	238535000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5610988
+SHUFFLE	COMPRESS_BYTE_COUNT	1720948
+SHUFFLE	COPY_MAP_DATA	269338000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5545963
+SHUFFLE	COMPRESS_BYTE_COUNT	1702624
+SHUFFLE	COPY_MAP_DATA	1271601000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5492108
+SHUFFLE	COMPRESS_BYTE_COUNT	1686600
+SHUFFLE	COPY_MAP_DATA	414246000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5612462
+SHUFFLE	COMPRESS_BYTE_COUNT	1720941
+SHUFFLE	COPY_MAP_DATA	93452000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5564650
+SHUFFLE	COMPRESS_BYTE_COUNT	1708377
+SHUFFLE	COPY_MAP_DATA	97271000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5601283
+SHUFFLE	COMPRESS_BYTE_COUNT	1719654
+SHUFFLE	COPY_MAP_DATA	93900000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5575410
+SHUFFLE	COMPRESS_BYTE_COUNT	1711360
+SHUFFLE	COPY_MAP_DATA	92890000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5560714
+SHUFFLE	COMPRESS_BYTE_COUNT	1706881
+SHUFFLE	COPY_MAP_DATA	550519000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5527462
+SHUFFLE	COMPRESS_BYTE_COUNT	1697880
+SHUFFLE	COPY_MAP_DATA	83776000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5506780
+SHUFFLE	COMPRESS_BYTE_COUNT	1710817
+SHUFFLE	COPY_MAP_DATA	1561364000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5588868
+SHUFFLE	COMPRESS_BYTE_COUNT	1714656
+SHUFFLE	COPY_MAP_DATA	558184000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5509756
+SHUFFLE	COMPRESS_BYTE_COUNT	1690547
+SHUFFLE	COPY_MAP_DATA	96089000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5515916
+SHUFFLE	COMPRESS_BYTE_COUNT	1692108
+SHUFFLE	COPY_MAP_DATA	91709000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5510198
+SHUFFLE	COMPRESS_BYTE_COUNT	1691663
+SHUFFLE	COPY_MAP_DATA	6053810000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5554231
+SHUFFLE	COMPRESS_BYTE_COUNT	1704448
+SHUFFLE	COPY_MAP_DATA	81724000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5583228
+SHUFFLE	COMPRESS_BYTE_COUNT	1712400
+SHUFFLE	COPY_MAP_DATA	187820000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5512912
+SHUFFLE	COMPRESS_BYTE_COUNT	1692997
+SHUFFLE	COPY_MAP_DATA	959978000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5517817
+SHUFFLE	COMPRESS_BYTE_COUNT	1714725
+SHUFFLE	COPY_MAP_DATA	2431161000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5540363
+SHUFFLE	COMPRESS_BYTE_COUNT	1721341
+SHUFFLE	COPY_MAP_DATA	2959969000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5549905
+SHUFFLE	COMPRESS_BYTE_COUNT	1703076
+SHUFFLE	COPY_MAP_DATA	96774000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5549674
+SHUFFLE	COMPRESS_BYTE_COUNT	1704057
+SHUFFLE	COPY_MAP_DATA	89767000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5527930
+SHUFFLE	COMPRESS_BYTE_COUNT	1697188
+SHUFFLE	COPY_MAP_DATA	473367000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5508869
+SHUFFLE	COMPRESS_BYTE_COUNT	1690832
+SHUFFLE	COPY_MAP_DATA	104809000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5543120
+SHUFFLE	COMPRESS_BYTE_COUNT	1701516
+SHUFFLE	COPY_MAP_DATA	81542000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5532728
+SHUFFLE	COMPRESS_BYTE_COUNT	1718476
+SHUFFLE	COPY_MAP_DATA	892158000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5531916
+SHUFFLE	COMPRESS_BYTE_COUNT	1698477
+SHUFFLE	COPY_MAP_DATA	581575000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5450583
+SHUFFLE	COMPRESS_BYTE_COUNT	1694208
+SHUFFLE	COPY_MAP_DATA	1192997000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5517731
+SHUFFLE	COMPRESS_BYTE_COUNT	1715284
+SHUFFLE	COPY_MAP_DATA	3352011000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5494311
+SHUFFLE	COMPRESS_BYTE_COUNT	1708174
+SHUFFLE	COPY_MAP_DATA	1464243000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5551341
+SHUFFLE	COMPRESS_BYTE_COUNT	1702832
+SHUFFLE	COPY_MAP_DATA	635850000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5545238
+SHUFFLE	COMPRESS_BYTE_COUNT	1702873
+SHUFFLE	COPY_MAP_DATA	153372000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5569758
+SHUFFLE	COMPRESS_BYTE_COUNT	1709086
+SHUFFLE	COPY_MAP_DATA	154104000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5491366
+SHUFFLE	COMPRESS_BYTE_COUNT	1706026
+SHUFFLE	COPY_MAP_DATA	589154000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5543476
+SHUFFLE	COMPRESS_BYTE_COUNT	1722205
+SHUFFLE	COPY_MAP_DATA	193657000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5520832
+SHUFFLE	COMPRESS_BYTE_COUNT	1715625
+SHUFFLE	COPY_MAP_DATA	267257000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5514689
+SHUFFLE	COMPRESS_BYTE_COUNT	1692687
+SHUFFLE	COPY_MAP_DATA	698354000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5509628
+SHUFFLE	COMPRESS_BYTE_COUNT	1691808
+SHUFFLE	COPY_MAP_DATA	157375000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5555917
+SHUFFLE	COMPRESS_BYTE_COUNT	1727194
+SHUFFLE	COPY_MAP_DATA	397072000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5493060
+SHUFFLE	COMPRESS_BYTE_COUNT	1706037
+SHUFFLE	COPY_MAP_DATA	999537000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5531069
+SHUFFLE	COMPRESS_BYTE_COUNT	1718571
+SHUFFLE	COPY_MAP_DATA	106461000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5499384
+SHUFFLE	COMPRESS_BYTE_COUNT	1710238
+SHUFFLE	COPY_MAP_DATA	85783000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5540928
+SHUFFLE	COMPRESS_BYTE_COUNT	1720627
+SHUFFLE	COPY_MAP_DATA	1191729000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5479305
+SHUFFLE	COMPRESS_BYTE_COUNT	1703247
+SHUFFLE	COPY_MAP_DATA	1081856000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5509169
+SHUFFLE	COMPRESS_BYTE_COUNT	1712717
+SHUFFLE	COPY_MAP_DATA	4062213000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5479040
+SHUFFLE	COMPRESS_BYTE_COUNT	1683695
+SHUFFLE	COPY_MAP_DATA	192947000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5507883
+SHUFFLE	COMPRESS_BYTE_COUNT	1712493
+SHUFFLE	COPY_MAP_DATA	507467000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5515867
+SHUFFLE	COMPRESS_BYTE_COUNT	1715756
+SHUFFLE	COPY_MAP_DATA	106961000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5545362
+SHUFFLE	COMPRESS_BYTE_COUNT	1723262
+SHUFFLE	COPY_MAP_DATA	88369000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5524418
+SHUFFLE	COMPRESS_BYTE_COUNT	1716944
+SHUFFLE	COPY_MAP_DATA	4331476000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5533584
+SHUFFLE	COMPRESS_BYTE_COUNT	1719967
+SHUFFLE	COPY_MAP_DATA	86353000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5498163
+SHUFFLE	COMPRESS_BYTE_COUNT	1707996
+SHUFFLE	COPY_MAP_DATA	580763000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5532914
+SHUFFLE	COMPRESS_BYTE_COUNT	1719502
+SHUFFLE	COPY_MAP_DATA	94927000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5545458
+SHUFFLE	COMPRESS_BYTE_COUNT	1727638
+SHUFFLE	COPY_MAP_DATA	179431000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5521559
+SHUFFLE	COMPRESS_BYTE_COUNT	1715084
+SHUFFLE	COPY_MAP_DATA	2930325000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5549520
+SHUFFLE	COMPRESS_BYTE_COUNT	1723750
+SHUFFLE	COPY_MAP_DATA	721334000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5573672
+SHUFFLE	COMPRESS_BYTE_COUNT	1735481
+SHUFFLE	COPY_MAP_DATA	1571592000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5596246
+SHUFFLE	COMPRESS_BYTE_COUNT	1738330
+SHUFFLE	COPY_MAP_DATA	97470000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5549821
+SHUFFLE	COMPRESS_BYTE_COUNT	1724642
+SHUFFLE	COPY_MAP_DATA	86884000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5539644
+SHUFFLE	COMPRESS_BYTE_COUNT	1721354
+SHUFFLE	COPY_MAP_DATA	251332000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5508575
+SHUFFLE	COMPRESS_BYTE_COUNT	1713621
+SHUFFLE	COPY_MAP_DATA	1111613000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5505879
+SHUFFLE	COMPRESS_BYTE_COUNT	1711473
+SHUFFLE	COPY_MAP_DATA	84093000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5516750
+SHUFFLE	COMPRESS_BYTE_COUNT	1714035
+SHUFFLE	COPY_MAP_DATA	439468000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5566557
+SHUFFLE	COMPRESS_BYTE_COUNT	1734040
+SHUFFLE	COPY_MAP_DATA	98853000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5561796
+SHUFFLE	COMPRESS_BYTE_COUNT	1731901
+SHUFFLE	COPY_MAP_DATA	285814000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5545822
+SHUFFLE	COMPRESS_BYTE_COUNT	1723898
+SHUFFLE	COPY_MAP_DATA	915623000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5520113
+SHUFFLE	COMPRESS_BYTE_COUNT	1737202
+SHUFFLE	COPY_MAP_DATA	232325000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5547358
+SHUFFLE	COMPRESS_BYTE_COUNT	1727455
+SHUFFLE	COPY_MAP_DATA	81622000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5506286
+SHUFFLE	COMPRESS_BYTE_COUNT	1711526
+SHUFFLE	COPY_MAP_DATA	194394000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5483665
+SHUFFLE	COMPRESS_BYTE_COUNT	1705253
+SHUFFLE	COPY_MAP_DATA	111874000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5562921
+SHUFFLE	COMPRESS_BYTE_COUNT	1732708
+SHUFFLE	COPY_MAP_DATA	118841000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5561116
+SHUFFLE	COMPRESS_BYTE_COUNT	1729183
+SHUFFLE	COPY_MAP_DATA	173997000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5501892
+SHUFFLE	COMPRESS_BYTE_COUNT	1745999
+SHUFFLE	COPY_MAP_DATA	1380230000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5581993
+SHUFFLE	COMPRESS_BYTE_COUNT	1722795
+SHUFFLE	COPY_MAP_DATA	86615000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5580621
+SHUFFLE	COMPRESS_BYTE_COUNT	1724174
+SHUFFLE	COPY_MAP_DATA	1055584000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4774824
+SHUFFLE	COMPRESS_BYTE_COUNT	1465528
+SHUFFLE	COPY_MAP_DATA	86475000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4771967
+SHUFFLE	COMPRESS_BYTE_COUNT	1465716
+SHUFFLE	COPY_MAP_DATA	3504345000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4477611
+SHUFFLE	COMPRESS_BYTE_COUNT	1392530
+SHUFFLE	COPY_MAP_DATA	94792000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5593432
+SHUFFLE	COMPRESS_BYTE_COUNT	1727212
+SHUFFLE	COPY_MAP_DATA	86580000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5588242
+SHUFFLE	COMPRESS_BYTE_COUNT	1726138
+SHUFFLE	COPY_MAP_DATA	123765000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5592216
+SHUFFLE	COMPRESS_BYTE_COUNT	1726736
+SHUFFLE	COPY_MAP_DATA	165660000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5599326
+SHUFFLE	COMPRESS_BYTE_COUNT	1728682
+SHUFFLE	COPY_MAP_DATA	86360000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4768798
+SHUFFLE	COMPRESS_BYTE_COUNT	1463671
+SHUFFLE	COPY_MAP_DATA	125346000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5600672
+SHUFFLE	COMPRESS_BYTE_COUNT	1728858
+SHUFFLE	COPY_MAP_DATA	100874000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5581867
+SHUFFLE	COMPRESS_BYTE_COUNT	1723055
+SHUFFLE	COPY_MAP_DATA	259235000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4457588
+SHUFFLE	COMPRESS_BYTE_COUNT	1386129
+SHUFFLE	COPY_MAP_DATA	198477000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5597566
+SHUFFLE	COMPRESS_BYTE_COUNT	1727968
+SHUFFLE	COPY_MAP_DATA	115973000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5597593
+SHUFFLE	COMPRESS_BYTE_COUNT	1726815
+SHUFFLE	COPY_MAP_DATA	112193000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4770544
+SHUFFLE	COMPRESS_BYTE_COUNT	1464369
+SHUFFLE	COPY_MAP_DATA	94746000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5554254
+SHUFFLE	COMPRESS_BYTE_COUNT	1730104
+SHUFFLE	COPY_MAP_DATA	370686000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5591821
+SHUFFLE	COMPRESS_BYTE_COUNT	1726042
+SHUFFLE	COPY_MAP_DATA	103702000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4721147
+SHUFFLE	COMPRESS_BYTE_COUNT	1449669
+SHUFFLE	COPY_MAP_DATA	980789000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5583515
+SHUFFLE	COMPRESS_BYTE_COUNT	1723470
+SHUFFLE	COPY_MAP_DATA	87266000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4754663
+SHUFFLE	COMPRESS_BYTE_COUNT	1458909
+SHUFFLE	COPY_MAP_DATA	74878000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4756556
+SHUFFLE	COMPRESS_BYTE_COUNT	1459343
+SHUFFLE	COPY_MAP_DATA	78536000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5545319
+SHUFFLE	COMPRESS_BYTE_COUNT	1728540
+SHUFFLE	COPY_MAP_DATA	95249000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5570587
+SHUFFLE	COMPRESS_BYTE_COUNT	1736265
+SHUFFLE	COPY_MAP_DATA	410967000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5550759
+SHUFFLE	COMPRESS_BYTE_COUNT	1729017
+SHUFFLE	COPY_MAP_DATA	1363837000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1736180
+SHUFFLE	COMPRESS_BYTE_COUNT	537353
+SHUFFLE	COPY_MAP_DATA	683214000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5548307
+SHUFFLE	COMPRESS_BYTE_COUNT	1729429
+SHUFFLE	COPY_MAP_DATA	470998000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5558560
+SHUFFLE	COMPRESS_BYTE_COUNT	1731269
+SHUFFLE	COPY_MAP_DATA	141851000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4712471
+SHUFFLE	COMPRESS_BYTE_COUNT	1446125
+SHUFFLE	COPY_MAP_DATA	2034685000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4794588
+SHUFFLE	COMPRESS_BYTE_COUNT	1471516
+SHUFFLE	COPY_MAP_DATA	764248000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4473053
+SHUFFLE	COMPRESS_BYTE_COUNT	1389307
+SHUFFLE	COPY_MAP_DATA	186869000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5571750
+SHUFFLE	COMPRESS_BYTE_COUNT	1736118
+SHUFFLE	COPY_MAP_DATA	83016000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4396768
+SHUFFLE	COMPRESS_BYTE_COUNT	1365584
+SHUFFLE	COPY_MAP_DATA	172752000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4429945
+SHUFFLE	COMPRESS_BYTE_COUNT	1377795
+SHUFFLE	COPY_MAP_DATA	8328639000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4436561
+SHUFFLE	COMPRESS_BYTE_COUNT	1380064
+SHUFFLE	COPY_MAP_DATA	72154000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4241970
+SHUFFLE	COMPRESS_BYTE_COUNT	1318598
+SHUFFLE	COPY_MAP_DATA	77112000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5583101
+SHUFFLE	COMPRESS_BYTE_COUNT	1722297
+SHUFFLE	COPY_MAP_DATA	120906000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1737551
+SHUFFLE	COMPRESS_BYTE_COUNT	537326
+SHUFFLE	COPY_MAP_DATA	28630000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1739788
+SHUFFLE	COMPRESS_BYTE_COUNT	538278
+SHUFFLE	COPY_MAP_DATA	2307223000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1741643
+SHUFFLE	COMPRESS_BYTE_COUNT	538633
+SHUFFLE	COPY_MAP_DATA	8717717000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1663582
+SHUFFLE	COMPRESS_BYTE_COUNT	519561
+SHUFFLE	COPY_MAP_DATA	31368000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1738585
+SHUFFLE	COMPRESS_BYTE_COUNT	538099
+SHUFFLE	COPY_MAP_DATA	31181000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1738605
+SHUFFLE	COMPRESS_BYTE_COUNT	538064
+SHUFFLE	COPY_MAP_DATA	40970000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1737997
+SHUFFLE	COMPRESS_BYTE_COUNT	536987
+SHUFFLE	COPY_MAP_DATA	32672000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5551838
+SHUFFLE	COMPRESS_BYTE_COUNT	1729654
+SHUFFLE	COPY_MAP_DATA	189112000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4410811
+SHUFFLE	COMPRESS_BYTE_COUNT	1370691
+SHUFFLE	COPY_MAP_DATA	70134000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4722443
+SHUFFLE	COMPRESS_BYTE_COUNT	1450725
+SHUFFLE	COPY_MAP_DATA	78307000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4424697
+SHUFFLE	COMPRESS_BYTE_COUNT	1375038
+SHUFFLE	COPY_MAP_DATA	548895000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1740587
+SHUFFLE	COMPRESS_BYTE_COUNT	537966
+SHUFFLE	COPY_MAP_DATA	28154000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1661809
+SHUFFLE	COMPRESS_BYTE_COUNT	518902
+SHUFFLE	COPY_MAP_DATA	27342000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1662161
+SHUFFLE	COMPRESS_BYTE_COUNT	518569
+SHUFFLE	COPY_MAP_DATA	666963000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1737662
+SHUFFLE	COMPRESS_BYTE_COUNT	537052
+SHUFFLE	COPY_MAP_DATA	100258000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1664582
+SHUFFLE	COMPRESS_BYTE_COUNT	519266
+SHUFFLE	COPY_MAP_DATA	47326000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1662216
+SHUFFLE	COMPRESS_BYTE_COUNT	519019
+SHUFFLE	COPY_MAP_DATA	27670000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1666846
+SHUFFLE	COMPRESS_BYTE_COUNT	520126
+SHUFFLE	COPY_MAP_DATA	49916000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4456422
+SHUFFLE	COMPRESS_BYTE_COUNT	1384656
+SHUFFLE	COPY_MAP_DATA	97027000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4747471
+SHUFFLE	COMPRESS_BYTE_COUNT	1458662
+SHUFFLE	COPY_MAP_DATA	74852000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1662730
+SHUFFLE	COMPRESS_BYTE_COUNT	518915
+SHUFFLE	COPY_MAP_DATA	28647000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4716610
+SHUFFLE	COMPRESS_BYTE_COUNT	1447671
+SHUFFLE	COPY_MAP_DATA	73273000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4523091
+SHUFFLE	COMPRESS_BYTE_COUNT	1388491
+SHUFFLE	COPY_MAP_DATA	71111000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4391408
+SHUFFLE	COMPRESS_BYTE_COUNT	1365145
+SHUFFLE	COPY_MAP_DATA	104270000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4128991
+SHUFFLE	COMPRESS_BYTE_COUNT	1300462
+SHUFFLE	COPY_MAP_DATA	173234000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1741735
+SHUFFLE	COMPRESS_BYTE_COUNT	537698
+SHUFFLE	COPY_MAP_DATA	39148000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4430814
+SHUFFLE	COMPRESS_BYTE_COUNT	1376571
+SHUFFLE	COPY_MAP_DATA	73304000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4745510
+SHUFFLE	COMPRESS_BYTE_COUNT	1457223
+SHUFFLE	COPY_MAP_DATA	76793000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4475385
+SHUFFLE	COMPRESS_BYTE_COUNT	1390752
+SHUFFLE	COPY_MAP_DATA	83534000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4357653
+SHUFFLE	COMPRESS_BYTE_COUNT	1355026
+SHUFFLE	COPY_MAP_DATA	78751000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1663844
+SHUFFLE	COMPRESS_BYTE_COUNT	519154
+SHUFFLE	COPY_MAP_DATA	40805000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1743008
+SHUFFLE	COMPRESS_BYTE_COUNT	539297
+SHUFFLE	COPY_MAP_DATA	40373000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1744681
+SHUFFLE	COMPRESS_BYTE_COUNT	539038
+SHUFFLE	COPY_MAP_DATA	34027000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1663008
+SHUFFLE	COMPRESS_BYTE_COUNT	519175
+SHUFFLE	COPY_MAP_DATA	46031000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1744829
+SHUFFLE	COMPRESS_BYTE_COUNT	539006
+SHUFFLE	COPY_MAP_DATA	532653000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1660031
+SHUFFLE	COMPRESS_BYTE_COUNT	517937
+SHUFFLE	COPY_MAP_DATA	304038000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1666249
+SHUFFLE	COMPRESS_BYTE_COUNT	519867
+SHUFFLE	COPY_MAP_DATA	27164000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1575474
+SHUFFLE	COMPRESS_BYTE_COUNT	497467
+SHUFFLE	COPY_MAP_DATA	25845000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1662779
+SHUFFLE	COMPRESS_BYTE_COUNT	519245
+SHUFFLE	COPY_MAP_DATA	40858000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1621209
+SHUFFLE	COMPRESS_BYTE_COUNT	505340
+SHUFFLE	COPY_MAP_DATA	27041000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1703583
+SHUFFLE	COMPRESS_BYTE_COUNT	525935
+SHUFFLE	COPY_MAP_DATA	223832000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1666444
+SHUFFLE	COMPRESS_BYTE_COUNT	520036
+SHUFFLE	COPY_MAP_DATA	57503000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4417797
+SHUFFLE	COMPRESS_BYTE_COUNT	1373976
+SHUFFLE	COPY_MAP_DATA	72560000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1657435
+SHUFFLE	COMPRESS_BYTE_COUNT	517280
+SHUFFLE	COPY_MAP_DATA	31719000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	456244388000
+MERGE	READ_WRITE	441394224000
+MERGE	READ_WRITE_COUNT	8
+MERGE	COMBINE	0
+MERGE	WRITE	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	10262856000
+SORT	READ_WRITE	10048732000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	165886024
+REDUCE	SETUP	350000
+REDUCE	SETUP_MEM	165886024
+REDUCE	CLEANUP	38000
+REDUCE	CLEANUP_MEM	201094640
+REDUCE	TOTAL_RUN	434432087000
+REDUCE	READ	7827419000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	417256296000
+REDUCE	WRITE	231830563000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	55910425
+REDUCE	VALUE_BYTE_COUNT	1648579763
+REDUCE	REDUCE_MEM	201094640
+REDUCE	WRITE	19145000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	1115862700000
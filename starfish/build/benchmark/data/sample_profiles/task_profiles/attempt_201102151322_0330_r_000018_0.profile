@@ -0,0 +1,989 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5472739
+SHUFFLE	COMPRESS_BYTE_COUNT	1722889
+SHUFFLE	COPY_MAP_DATA	954717000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5507815
+SHUFFLE	COMPRESS_BYTE_COUNT	1713015
+SHUFFLE	COPY_MAP_DATA	179141000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5512473
+SHUFFLE	COMPRESS_BYTE_COUNT	1713945
+SHUFFLE	COPY_MAP_DATA	561133000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5478674
+SHUFFLE	COMPRESS_BYTE_COUNT	1702511
+SHUFFLE	COPY_MAP_DATA	296710000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5499197
+SHUFFLE	COMPRESS_BYTE_COUNT	1688216
+SHUFFLE	COPY_MAP_DATA	216096000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5495513
+SHUFFLE	COMPRESS_BYTE_COUNT	1707744
+SHUFFLE	COPY_MAP_DATA	90294000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5508996
+SHUFFLE	COMPRESS_BYTE_COUNT	1711807
+SHUFFLE	COPY_MAP_DATA	569952000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5491694
+SHUFFLE	COMPRESS_BYTE_COUNT	1706588
+SHUFFLE	COPY_MAP_DATA	88862000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5488923
+SHUFFLE	COMPRESS_BYTE_COUNT	1705632
+SHUFFLE	COPY_MAP_DATA	155150000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5497350
+SHUFFLE	COMPRESS_BYTE_COUNT	1709864
+SHUFFLE	COPY_MAP_DATA	88668000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5498829
+SHUFFLE	COMPRESS_BYTE_COUNT	1707529
+SHUFFLE	COPY_MAP_DATA	117118000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5508574
+SHUFFLE	COMPRESS_BYTE_COUNT	1712095
+SHUFFLE	COPY_MAP_DATA	183439000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5478740
+SHUFFLE	COMPRESS_BYTE_COUNT	1725512
+SHUFFLE	COPY_MAP_DATA	92048000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5491820
+SHUFFLE	COMPRESS_BYTE_COUNT	1706390
+SHUFFLE	COPY_MAP_DATA	132886000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5448163
+SHUFFLE	COMPRESS_BYTE_COUNT	1694018
+SHUFFLE	COPY_MAP_DATA	280046000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5535924
+SHUFFLE	COMPRESS_BYTE_COUNT	1720686
+SHUFFLE	COPY_MAP_DATA	263274000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5497607
+SHUFFLE	COMPRESS_BYTE_COUNT	1708572
+SHUFFLE	COPY_MAP_DATA	165752000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5526601
+SHUFFLE	COMPRESS_BYTE_COUNT	1716956
+SHUFFLE	COPY_MAP_DATA	86734000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5464453
+SHUFFLE	COMPRESS_BYTE_COUNT	1698544
+SHUFFLE	COPY_MAP_DATA	171394000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5534496
+SHUFFLE	COMPRESS_BYTE_COUNT	1721089
+SHUFFLE	COPY_MAP_DATA	553672000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5486769
+SHUFFLE	COMPRESS_BYTE_COUNT	1705574
+SHUFFLE	COPY_MAP_DATA	80616000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5505053
+SHUFFLE	COMPRESS_BYTE_COUNT	1710847
+SHUFFLE	COPY_MAP_DATA	81266000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5475506
+SHUFFLE	COMPRESS_BYTE_COUNT	1723941
+SHUFFLE	COPY_MAP_DATA	85071000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5471115
+SHUFFLE	COMPRESS_BYTE_COUNT	1722975
+SHUFFLE	COPY_MAP_DATA	505230000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5514659
+SHUFFLE	COMPRESS_BYTE_COUNT	1715011
+SHUFFLE	COPY_MAP_DATA	171797000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5516100
+SHUFFLE	COMPRESS_BYTE_COUNT	1713819
+SHUFFLE	COPY_MAP_DATA	133328000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5511455
+SHUFFLE	COMPRESS_BYTE_COUNT	1712949
+SHUFFLE	COPY_MAP_DATA	1213971000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5528066
+SHUFFLE	COMPRESS_BYTE_COUNT	1717991
+SHUFFLE	COPY_MAP_DATA	456290000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5550305
+SHUFFLE	COMPRESS_BYTE_COUNT	1725474
+SHUFFLE	COPY_MAP_DATA	190281000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5483826
+SHUFFLE	COMPRESS_BYTE_COUNT	1753024
+SHUFFLE	COPY_MAP_DATA	196800000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5489057
+SHUFFLE	COMPRESS_BYTE_COUNT	1705834
+SHUFFLE	COPY_MAP_DATA	81192000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5553434
+SHUFFLE	COMPRESS_BYTE_COUNT	1704564
+SHUFFLE	COPY_MAP_DATA	91009000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5487278
+SHUFFLE	COMPRESS_BYTE_COUNT	1705803
+SHUFFLE	COPY_MAP_DATA	264140000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5573974
+SHUFFLE	COMPRESS_BYTE_COUNT	1710742
+SHUFFLE	COPY_MAP_DATA	191762000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5447085
+SHUFFLE	COMPRESS_BYTE_COUNT	1692853
+SHUFFLE	COPY_MAP_DATA	122850000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5485802
+SHUFFLE	COMPRESS_BYTE_COUNT	1705447
+SHUFFLE	COPY_MAP_DATA	1012053000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5533326
+SHUFFLE	COMPRESS_BYTE_COUNT	1718024
+SHUFFLE	COPY_MAP_DATA	1892425000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5495654
+SHUFFLE	COMPRESS_BYTE_COUNT	1707581
+SHUFFLE	COPY_MAP_DATA	259580000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5528980
+SHUFFLE	COMPRESS_BYTE_COUNT	1697353
+SHUFFLE	COPY_MAP_DATA	178641000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5510337
+SHUFFLE	COMPRESS_BYTE_COUNT	1712968
+SHUFFLE	COPY_MAP_DATA	163722000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5570823
+SHUFFLE	COMPRESS_BYTE_COUNT	1709875
+SHUFFLE	COPY_MAP_DATA	222464000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5567656
+SHUFFLE	COMPRESS_BYTE_COUNT	1708362
+SHUFFLE	COPY_MAP_DATA	99808000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5496013
+SHUFFLE	COMPRESS_BYTE_COUNT	1708296
+SHUFFLE	COPY_MAP_DATA	610509000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5531974
+SHUFFLE	COMPRESS_BYTE_COUNT	1719693
+SHUFFLE	COPY_MAP_DATA	363577000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5479450
+SHUFFLE	COMPRESS_BYTE_COUNT	1703427
+SHUFFLE	COPY_MAP_DATA	137487000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5484906
+SHUFFLE	COMPRESS_BYTE_COUNT	1725681
+SHUFFLE	COPY_MAP_DATA	90789000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5505392
+SHUFFLE	COMPRESS_BYTE_COUNT	1710481
+SHUFFLE	COPY_MAP_DATA	83507000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5539242
+SHUFFLE	COMPRESS_BYTE_COUNT	1700122
+SHUFFLE	COPY_MAP_DATA	386035000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5557886
+SHUFFLE	COMPRESS_BYTE_COUNT	1726692
+SHUFFLE	COPY_MAP_DATA	1005098000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5540545
+SHUFFLE	COMPRESS_BYTE_COUNT	1701774
+SHUFFLE	COPY_MAP_DATA	1139018000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5493535
+SHUFFLE	COMPRESS_BYTE_COUNT	1707949
+SHUFFLE	COPY_MAP_DATA	431771000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5492934
+SHUFFLE	COMPRESS_BYTE_COUNT	1686185
+SHUFFLE	COPY_MAP_DATA	172984000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5555576
+SHUFFLE	COMPRESS_BYTE_COUNT	1726354
+SHUFFLE	COPY_MAP_DATA	1098600000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5556313
+SHUFFLE	COMPRESS_BYTE_COUNT	1705461
+SHUFFLE	COPY_MAP_DATA	1776795000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5598900
+SHUFFLE	COMPRESS_BYTE_COUNT	1717638
+SHUFFLE	COPY_MAP_DATA	159661000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5440783
+SHUFFLE	COMPRESS_BYTE_COUNT	1689301
+SHUFFLE	COPY_MAP_DATA	11427956000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5531524
+SHUFFLE	COMPRESS_BYTE_COUNT	1718436
+SHUFFLE	COPY_MAP_DATA	490035000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5553279
+SHUFFLE	COMPRESS_BYTE_COUNT	1703681
+SHUFFLE	COPY_MAP_DATA	609229000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5479577
+SHUFFLE	COMPRESS_BYTE_COUNT	1682525
+SHUFFLE	COPY_MAP_DATA	84697000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5593560
+SHUFFLE	COMPRESS_BYTE_COUNT	1716935
+SHUFFLE	COPY_MAP_DATA	92476000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5532640
+SHUFFLE	COMPRESS_BYTE_COUNT	1698570
+SHUFFLE	COPY_MAP_DATA	97528000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5571398
+SHUFFLE	COMPRESS_BYTE_COUNT	1711253
+SHUFFLE	COPY_MAP_DATA	4000963000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5526073
+SHUFFLE	COMPRESS_BYTE_COUNT	1696239
+SHUFFLE	COPY_MAP_DATA	6637383000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5569033
+SHUFFLE	COMPRESS_BYTE_COUNT	1710401
+SHUFFLE	COPY_MAP_DATA	1684566000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5566087
+SHUFFLE	COMPRESS_BYTE_COUNT	1707795
+SHUFFLE	COPY_MAP_DATA	1313441000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5558967
+SHUFFLE	COMPRESS_BYTE_COUNT	1706524
+SHUFFLE	COPY_MAP_DATA	231188000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5491821
+SHUFFLE	COMPRESS_BYTE_COUNT	1726183
+SHUFFLE	COPY_MAP_DATA	499931000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5538900
+SHUFFLE	COMPRESS_BYTE_COUNT	1699892
+SHUFFLE	COPY_MAP_DATA	89476000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5479582
+SHUFFLE	COMPRESS_BYTE_COUNT	1725432
+SHUFFLE	COPY_MAP_DATA	92664000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5521061
+SHUFFLE	COMPRESS_BYTE_COUNT	1695305
+SHUFFLE	COPY_MAP_DATA	148663000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5516538
+SHUFFLE	COMPRESS_BYTE_COUNT	1693921
+SHUFFLE	COPY_MAP_DATA	80162000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5567310
+SHUFFLE	COMPRESS_BYTE_COUNT	1708127
+SHUFFLE	COPY_MAP_DATA	2125401000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5541555
+SHUFFLE	COMPRESS_BYTE_COUNT	1702257
+SHUFFLE	COPY_MAP_DATA	109189000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5566473
+SHUFFLE	COMPRESS_BYTE_COUNT	1708955
+SHUFFLE	COPY_MAP_DATA	110235000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5564646
+SHUFFLE	COMPRESS_BYTE_COUNT	1709522
+SHUFFLE	COPY_MAP_DATA	96538000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5615757
+SHUFFLE	COMPRESS_BYTE_COUNT	1723692
+SHUFFLE	COPY_MAP_DATA	119211000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5531247
+SHUFFLE	COMPRESS_BYTE_COUNT	1698245
+SHUFFLE	COPY_MAP_DATA	703778000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5581064
+SHUFFLE	COMPRESS_BYTE_COUNT	1711993
+SHUFFLE	COPY_MAP_DATA	86445000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5534702
+SHUFFLE	COMPRESS_BYTE_COUNT	1699331
+SHUFFLE	COPY_MAP_DATA	191442000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5526538
+SHUFFLE	COMPRESS_BYTE_COUNT	1698061
+SHUFFLE	COPY_MAP_DATA	141887000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5538439
+SHUFFLE	COMPRESS_BYTE_COUNT	1698765
+SHUFFLE	COPY_MAP_DATA	379894000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5536655
+SHUFFLE	COMPRESS_BYTE_COUNT	1698890
+SHUFFLE	COPY_MAP_DATA	123605000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5493549
+SHUFFLE	COMPRESS_BYTE_COUNT	1685669
+SHUFFLE	COPY_MAP_DATA	141359000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5458609
+SHUFFLE	COMPRESS_BYTE_COUNT	1718710
+SHUFFLE	COPY_MAP_DATA	260273000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5513678
+SHUFFLE	COMPRESS_BYTE_COUNT	1693155
+SHUFFLE	COPY_MAP_DATA	365089000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5539245
+SHUFFLE	COMPRESS_BYTE_COUNT	1700230
+SHUFFLE	COPY_MAP_DATA	380077000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5549075
+SHUFFLE	COMPRESS_BYTE_COUNT	1703589
+SHUFFLE	COPY_MAP_DATA	85281000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5601874
+SHUFFLE	COMPRESS_BYTE_COUNT	1719188
+SHUFFLE	COPY_MAP_DATA	1612014000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5551204
+SHUFFLE	COMPRESS_BYTE_COUNT	1704113
+SHUFFLE	COPY_MAP_DATA	177926000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5574911
+SHUFFLE	COMPRESS_BYTE_COUNT	1711216
+SHUFFLE	COPY_MAP_DATA	223481000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5531631
+SHUFFLE	COMPRESS_BYTE_COUNT	1698525
+SHUFFLE	COPY_MAP_DATA	91383000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5546996
+SHUFFLE	COMPRESS_BYTE_COUNT	1703310
+SHUFFLE	COPY_MAP_DATA	92083000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5592208
+SHUFFLE	COMPRESS_BYTE_COUNT	1716347
+SHUFFLE	COPY_MAP_DATA	1509678000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5543221
+SHUFFLE	COMPRESS_BYTE_COUNT	1702825
+SHUFFLE	COPY_MAP_DATA	85444000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5535442
+SHUFFLE	COMPRESS_BYTE_COUNT	1699575
+SHUFFLE	COPY_MAP_DATA	109671000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5611493
+SHUFFLE	COMPRESS_BYTE_COUNT	1722819
+SHUFFLE	COPY_MAP_DATA	99030000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5529333
+SHUFFLE	COMPRESS_BYTE_COUNT	1719622
+SHUFFLE	COPY_MAP_DATA	87254000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5543794
+SHUFFLE	COMPRESS_BYTE_COUNT	1701830
+SHUFFLE	COPY_MAP_DATA	895333000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5552566
+SHUFFLE	COMPRESS_BYTE_COUNT	1704663
+SHUFFLE	COPY_MAP_DATA	131574000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5559877
+SHUFFLE	COMPRESS_BYTE_COUNT	1706326
+SHUFFLE	COPY_MAP_DATA	1853981000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5551316
+SHUFFLE	COMPRESS_BYTE_COUNT	1724616
+SHUFFLE	COPY_MAP_DATA	150684000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5584172
+SHUFFLE	COMPRESS_BYTE_COUNT	1714052
+SHUFFLE	COPY_MAP_DATA	457718000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5565252
+SHUFFLE	COMPRESS_BYTE_COUNT	1707860
+SHUFFLE	COPY_MAP_DATA	174601000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5506779
+SHUFFLE	COMPRESS_BYTE_COUNT	1690093
+SHUFFLE	COPY_MAP_DATA	181412000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5524814
+SHUFFLE	COMPRESS_BYTE_COUNT	1695825
+SHUFFLE	COPY_MAP_DATA	180194000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5566953
+SHUFFLE	COMPRESS_BYTE_COUNT	1708628
+SHUFFLE	COPY_MAP_DATA	128202000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5459514
+SHUFFLE	COMPRESS_BYTE_COUNT	1697754
+SHUFFLE	COPY_MAP_DATA	129069000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5595685
+SHUFFLE	COMPRESS_BYTE_COUNT	1717346
+SHUFFLE	COPY_MAP_DATA	816898000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5486134
+SHUFFLE	COMPRESS_BYTE_COUNT	1684334
+SHUFFLE	COPY_MAP_DATA	108352000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5569390
+SHUFFLE	COMPRESS_BYTE_COUNT	1708963
+SHUFFLE	COPY_MAP_DATA	141188000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5548274
+SHUFFLE	COMPRESS_BYTE_COUNT	1702385
+SHUFFLE	COPY_MAP_DATA	86692000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5586058
+SHUFFLE	COMPRESS_BYTE_COUNT	1714782
+SHUFFLE	COPY_MAP_DATA	723621000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5490892
+SHUFFLE	COMPRESS_BYTE_COUNT	1705995
+SHUFFLE	COPY_MAP_DATA	281846000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5534346
+SHUFFLE	COMPRESS_BYTE_COUNT	1719598
+SHUFFLE	COPY_MAP_DATA	538001000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5568465
+SHUFFLE	COMPRESS_BYTE_COUNT	1730832
+SHUFFLE	COPY_MAP_DATA	604553000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5532350
+SHUFFLE	COMPRESS_BYTE_COUNT	1718838
+SHUFFLE	COPY_MAP_DATA	82319000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5572145
+SHUFFLE	COMPRESS_BYTE_COUNT	1710718
+SHUFFLE	COPY_MAP_DATA	191678000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5564653
+SHUFFLE	COMPRESS_BYTE_COUNT	1707666
+SHUFFLE	COPY_MAP_DATA	2313599000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5589259
+SHUFFLE	COMPRESS_BYTE_COUNT	1715862
+SHUFFLE	COPY_MAP_DATA	87114000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5481727
+SHUFFLE	COMPRESS_BYTE_COUNT	1704062
+SHUFFLE	COPY_MAP_DATA	208780000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5554584
+SHUFFLE	COMPRESS_BYTE_COUNT	1726211
+SHUFFLE	COPY_MAP_DATA	3055307000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5484898
+SHUFFLE	COMPRESS_BYTE_COUNT	1705072
+SHUFFLE	COPY_MAP_DATA	402123000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5525268
+SHUFFLE	COMPRESS_BYTE_COUNT	1697427
+SHUFFLE	COPY_MAP_DATA	819506000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5536465
+SHUFFLE	COMPRESS_BYTE_COUNT	1720342
+SHUFFLE	COPY_MAP_DATA	108720000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5529939
+SHUFFLE	COMPRESS_BYTE_COUNT	1697423
+SHUFFLE	COPY_MAP_DATA	111780000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5519174
+SHUFFLE	COMPRESS_BYTE_COUNT	1716307
+SHUFFLE	COPY_MAP_DATA	703747000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5481925
+SHUFFLE	COMPRESS_BYTE_COUNT	1704153
+SHUFFLE	COPY_MAP_DATA	140575000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5552008
+SHUFFLE	COMPRESS_BYTE_COUNT	1724528
+SHUFFLE	COPY_MAP_DATA	110388000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5512467
+SHUFFLE	COMPRESS_BYTE_COUNT	1713077
+SHUFFLE	COPY_MAP_DATA	89764000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5504226
+SHUFFLE	COMPRESS_BYTE_COUNT	1710546
+SHUFFLE	COPY_MAP_DATA	618618000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5525116
+SHUFFLE	COMPRESS_BYTE_COUNT	1716518
+SHUFFLE	COPY_MAP_DATA	1479308000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5547443
+SHUFFLE	COMPRESS_BYTE_COUNT	1702914
+SHUFFLE	COPY_MAP_DATA	103144000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5548515
+SHUFFLE	COMPRESS_BYTE_COUNT	1724135
+SHUFFLE	COPY_MAP_DATA	372672000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5479643
+SHUFFLE	COMPRESS_BYTE_COUNT	1703599
+SHUFFLE	COPY_MAP_DATA	1123695000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5467956
+SHUFFLE	COMPRESS_BYTE_COUNT	1699780
+SHUFFLE	COPY_MAP_DATA	133814000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5534760
+SHUFFLE	COMPRESS_BYTE_COUNT	1721429
+SHUFFLE	COPY_MAP_DATA	867509000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5500444
+SHUFFLE	COMPRESS_BYTE_COUNT	1708453
+SHUFFLE	COPY_MAP_DATA	806079000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5546478
+SHUFFLE	COMPRESS_BYTE_COUNT	1726802
+SHUFFLE	COPY_MAP_DATA	135199000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5516630
+SHUFFLE	COMPRESS_BYTE_COUNT	1714744
+SHUFFLE	COPY_MAP_DATA	5524575000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5542563
+SHUFFLE	COMPRESS_BYTE_COUNT	1721140
+SHUFFLE	COPY_MAP_DATA	146755000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5547605
+SHUFFLE	COMPRESS_BYTE_COUNT	1723954
+SHUFFLE	COPY_MAP_DATA	251783000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5513079
+SHUFFLE	COMPRESS_BYTE_COUNT	1713418
+SHUFFLE	COPY_MAP_DATA	90889000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5565144
+SHUFFLE	COMPRESS_BYTE_COUNT	1728448
+SHUFFLE	COPY_MAP_DATA	82356000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5457667
+SHUFFLE	COMPRESS_BYTE_COUNT	1696761
+SHUFFLE	COPY_MAP_DATA	80184000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5484970
+SHUFFLE	COMPRESS_BYTE_COUNT	1705121
+SHUFFLE	COPY_MAP_DATA	959500000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5564125
+SHUFFLE	COMPRESS_BYTE_COUNT	1733551
+SHUFFLE	COPY_MAP_DATA	81377000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5517045
+SHUFFLE	COMPRESS_BYTE_COUNT	1713921
+SHUFFLE	COPY_MAP_DATA	98172000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5502959
+SHUFFLE	COMPRESS_BYTE_COUNT	1709694
+SHUFFLE	COPY_MAP_DATA	1646073000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5503868
+SHUFFLE	COMPRESS_BYTE_COUNT	1710397
+SHUFFLE	COPY_MAP_DATA	210969000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5553206
+SHUFFLE	COMPRESS_BYTE_COUNT	1730004
+SHUFFLE	COPY_MAP_DATA	492848000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5547928
+SHUFFLE	COMPRESS_BYTE_COUNT	1729401
+SHUFFLE	COPY_MAP_DATA	298333000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5552476
+SHUFFLE	COMPRESS_BYTE_COUNT	1725929
+SHUFFLE	COPY_MAP_DATA	2883384000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5538277
+SHUFFLE	COMPRESS_BYTE_COUNT	1725920
+SHUFFLE	COPY_MAP_DATA	1240317000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5522674
+SHUFFLE	COMPRESS_BYTE_COUNT	1736509
+SHUFFLE	COPY_MAP_DATA	523356000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5562120
+SHUFFLE	COMPRESS_BYTE_COUNT	1728752
+SHUFFLE	COPY_MAP_DATA	103898000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5480816
+SHUFFLE	COMPRESS_BYTE_COUNT	1703037
+SHUFFLE	COPY_MAP_DATA	635741000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5567700
+SHUFFLE	COMPRESS_BYTE_COUNT	1733593
+SHUFFLE	COPY_MAP_DATA	120514000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5555325
+SHUFFLE	COMPRESS_BYTE_COUNT	1728587
+SHUFFLE	COPY_MAP_DATA	86801000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5500360
+SHUFFLE	COMPRESS_BYTE_COUNT	1744339
+SHUFFLE	COPY_MAP_DATA	2710006000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5607016
+SHUFFLE	COMPRESS_BYTE_COUNT	1729993
+SHUFFLE	COPY_MAP_DATA	1241269000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5584686
+SHUFFLE	COMPRESS_BYTE_COUNT	1723773
+SHUFFLE	COPY_MAP_DATA	267359000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4692871
+SHUFFLE	COMPRESS_BYTE_COUNT	1440390
+SHUFFLE	COPY_MAP_DATA	231560000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4464416
+SHUFFLE	COMPRESS_BYTE_COUNT	1387988
+SHUFFLE	COPY_MAP_DATA	579768000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5586296
+SHUFFLE	COMPRESS_BYTE_COUNT	1724948
+SHUFFLE	COPY_MAP_DATA	373930000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4741748
+SHUFFLE	COMPRESS_BYTE_COUNT	1455603
+SHUFFLE	COPY_MAP_DATA	673917000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5599712
+SHUFFLE	COMPRESS_BYTE_COUNT	1728125
+SHUFFLE	COPY_MAP_DATA	1563203000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4399172
+SHUFFLE	COMPRESS_BYTE_COUNT	1368672
+SHUFFLE	COPY_MAP_DATA	83000000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5616336
+SHUFFLE	COMPRESS_BYTE_COUNT	1733564
+SHUFFLE	COPY_MAP_DATA	87324000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4756300
+SHUFFLE	COMPRESS_BYTE_COUNT	1460167
+SHUFFLE	COPY_MAP_DATA	75639000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4717570
+SHUFFLE	COMPRESS_BYTE_COUNT	1447271
+SHUFFLE	COPY_MAP_DATA	354125000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5591790
+SHUFFLE	COMPRESS_BYTE_COUNT	1725988
+SHUFFLE	COPY_MAP_DATA	321758000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5600968
+SHUFFLE	COMPRESS_BYTE_COUNT	1728080
+SHUFFLE	COPY_MAP_DATA	82877000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5584346
+SHUFFLE	COMPRESS_BYTE_COUNT	1724124
+SHUFFLE	COPY_MAP_DATA	94776000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5604518
+SHUFFLE	COMPRESS_BYTE_COUNT	1730484
+SHUFFLE	COPY_MAP_DATA	132078000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5599226
+SHUFFLE	COMPRESS_BYTE_COUNT	1728083
+SHUFFLE	COPY_MAP_DATA	86405000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5584789
+SHUFFLE	COMPRESS_BYTE_COUNT	1724462
+SHUFFLE	COPY_MAP_DATA	154416000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5543189
+SHUFFLE	COMPRESS_BYTE_COUNT	1727262
+SHUFFLE	COPY_MAP_DATA	3154059000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5594284
+SHUFFLE	COMPRESS_BYTE_COUNT	1725742
+SHUFFLE	COPY_MAP_DATA	434777000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4711949
+SHUFFLE	COMPRESS_BYTE_COUNT	1446648
+SHUFFLE	COPY_MAP_DATA	145943000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4696783
+SHUFFLE	COMPRESS_BYTE_COUNT	1441733
+SHUFFLE	COPY_MAP_DATA	70136000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4767969
+SHUFFLE	COMPRESS_BYTE_COUNT	1463047
+SHUFFLE	COPY_MAP_DATA	282665000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5547410
+SHUFFLE	COMPRESS_BYTE_COUNT	1727888
+SHUFFLE	COPY_MAP_DATA	134741000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5568727
+SHUFFLE	COMPRESS_BYTE_COUNT	1734136
+SHUFFLE	COPY_MAP_DATA	825673000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5563502
+SHUFFLE	COMPRESS_BYTE_COUNT	1732289
+SHUFFLE	COPY_MAP_DATA	86535000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1741130
+SHUFFLE	COMPRESS_BYTE_COUNT	537949
+SHUFFLE	COPY_MAP_DATA	3360185000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5546148
+SHUFFLE	COMPRESS_BYTE_COUNT	1728238
+SHUFFLE	COPY_MAP_DATA	173432000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5552172
+SHUFFLE	COMPRESS_BYTE_COUNT	1730224
+SHUFFLE	COPY_MAP_DATA	538221000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4723982
+SHUFFLE	COMPRESS_BYTE_COUNT	1451348
+SHUFFLE	COPY_MAP_DATA	276502000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4772254
+SHUFFLE	COMPRESS_BYTE_COUNT	1463944
+SHUFFLE	COPY_MAP_DATA	129172000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5566140
+SHUFFLE	COMPRESS_BYTE_COUNT	1733859
+SHUFFLE	COPY_MAP_DATA	114968000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4423561
+SHUFFLE	COMPRESS_BYTE_COUNT	1374619
+SHUFFLE	COPY_MAP_DATA	110288000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4409845
+SHUFFLE	COMPRESS_BYTE_COUNT	1369883
+SHUFFLE	COPY_MAP_DATA	2296501000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4451248
+SHUFFLE	COMPRESS_BYTE_COUNT	1382649
+SHUFFLE	COPY_MAP_DATA	204124000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4481052
+SHUFFLE	COMPRESS_BYTE_COUNT	1392528
+SHUFFLE	COPY_MAP_DATA	456162000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5591375
+SHUFFLE	COMPRESS_BYTE_COUNT	1724902
+SHUFFLE	COPY_MAP_DATA	317715000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4249767
+SHUFFLE	COMPRESS_BYTE_COUNT	1321818
+SHUFFLE	COPY_MAP_DATA	108863000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1738660
+SHUFFLE	COMPRESS_BYTE_COUNT	537299
+SHUFFLE	COPY_MAP_DATA	10591800000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1739873
+SHUFFLE	COMPRESS_BYTE_COUNT	537583
+SHUFFLE	COPY_MAP_DATA	37428000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1737311
+SHUFFLE	COMPRESS_BYTE_COUNT	537709
+SHUFFLE	COPY_MAP_DATA	29179000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1670332
+SHUFFLE	COMPRESS_BYTE_COUNT	520853
+SHUFFLE	COPY_MAP_DATA	54753000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1735519
+SHUFFLE	COMPRESS_BYTE_COUNT	536774
+SHUFFLE	COPY_MAP_DATA	95623000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1732896
+SHUFFLE	COMPRESS_BYTE_COUNT	535840
+SHUFFLE	COPY_MAP_DATA	28854000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1734573
+SHUFFLE	COMPRESS_BYTE_COUNT	536855
+SHUFFLE	COPY_MAP_DATA	29223000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5545957
+SHUFFLE	COMPRESS_BYTE_COUNT	1727932
+SHUFFLE	COPY_MAP_DATA	150243000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4724564
+SHUFFLE	COMPRESS_BYTE_COUNT	1450747
+SHUFFLE	COPY_MAP_DATA	189446000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4462743
+SHUFFLE	COMPRESS_BYTE_COUNT	1386291
+SHUFFLE	COPY_MAP_DATA	71638000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1666349
+SHUFFLE	COMPRESS_BYTE_COUNT	519940
+SHUFFLE	COPY_MAP_DATA	36370000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1740308
+SHUFFLE	COMPRESS_BYTE_COUNT	537585
+SHUFFLE	COPY_MAP_DATA	134815000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4428075
+SHUFFLE	COMPRESS_BYTE_COUNT	1375654
+SHUFFLE	COPY_MAP_DATA	367909000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1656813
+SHUFFLE	COMPRESS_BYTE_COUNT	516795
+SHUFFLE	COPY_MAP_DATA	27815000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1737405
+SHUFFLE	COMPRESS_BYTE_COUNT	537527
+SHUFFLE	COPY_MAP_DATA	29130000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1666392
+SHUFFLE	COMPRESS_BYTE_COUNT	519957
+SHUFFLE	COPY_MAP_DATA	52063000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1660491
+SHUFFLE	COMPRESS_BYTE_COUNT	519065
+SHUFFLE	COPY_MAP_DATA	87942000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1660819
+SHUFFLE	COMPRESS_BYTE_COUNT	518401
+SHUFFLE	COPY_MAP_DATA	74748000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4727217
+SHUFFLE	COMPRESS_BYTE_COUNT	1450910
+SHUFFLE	COPY_MAP_DATA	75254000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1658105
+SHUFFLE	COMPRESS_BYTE_COUNT	517376
+SHUFFLE	COPY_MAP_DATA	37598000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4696260
+SHUFFLE	COMPRESS_BYTE_COUNT	1442358
+SHUFFLE	COPY_MAP_DATA	79730000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4451233
+SHUFFLE	COMPRESS_BYTE_COUNT	1383408
+SHUFFLE	COPY_MAP_DATA	315269000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4587290
+SHUFFLE	COMPRESS_BYTE_COUNT	1407242
+SHUFFLE	COPY_MAP_DATA	580979000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4423933
+SHUFFLE	COMPRESS_BYTE_COUNT	1375148
+SHUFFLE	COPY_MAP_DATA	68688000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1733824
+SHUFFLE	COMPRESS_BYTE_COUNT	536358
+SHUFFLE	COPY_MAP_DATA	64150000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1736297
+SHUFFLE	COMPRESS_BYTE_COUNT	537074
+SHUFFLE	COPY_MAP_DATA	107454000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4518298
+SHUFFLE	COMPRESS_BYTE_COUNT	1403685
+SHUFFLE	COPY_MAP_DATA	2146784000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1671216
+SHUFFLE	COMPRESS_BYTE_COUNT	520896
+SHUFFLE	COPY_MAP_DATA	111112000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4108446
+SHUFFLE	COMPRESS_BYTE_COUNT	1294293
+SHUFFLE	COPY_MAP_DATA	146102000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4424322
+SHUFFLE	COMPRESS_BYTE_COUNT	1375616
+SHUFFLE	COPY_MAP_DATA	81088000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4378888
+SHUFFLE	COMPRESS_BYTE_COUNT	1361831
+SHUFFLE	COPY_MAP_DATA	72315000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4760580
+SHUFFLE	COMPRESS_BYTE_COUNT	1462038
+SHUFFLE	COPY_MAP_DATA	171621000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1672205
+SHUFFLE	COMPRESS_BYTE_COUNT	520992
+SHUFFLE	COPY_MAP_DATA	38076000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1742261
+SHUFFLE	COMPRESS_BYTE_COUNT	538389
+SHUFFLE	COPY_MAP_DATA	32597000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1735308
+SHUFFLE	COMPRESS_BYTE_COUNT	536490
+SHUFFLE	COPY_MAP_DATA	153827000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1657938
+SHUFFLE	COMPRESS_BYTE_COUNT	517927
+SHUFFLE	COPY_MAP_DATA	228284000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1575832
+SHUFFLE	COMPRESS_BYTE_COUNT	497794
+SHUFFLE	COPY_MAP_DATA	576672000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1667941
+SHUFFLE	COMPRESS_BYTE_COUNT	520958
+SHUFFLE	COPY_MAP_DATA	99470000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1622269
+SHUFFLE	COMPRESS_BYTE_COUNT	505569
+SHUFFLE	COPY_MAP_DATA	29238000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1668949
+SHUFFLE	COMPRESS_BYTE_COUNT	520143
+SHUFFLE	COPY_MAP_DATA	26360000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1699060
+SHUFFLE	COMPRESS_BYTE_COUNT	525073
+SHUFFLE	COPY_MAP_DATA	38997000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1668626
+SHUFFLE	COMPRESS_BYTE_COUNT	520772
+SHUFFLE	COPY_MAP_DATA	47890000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1657698
+SHUFFLE	COMPRESS_BYTE_COUNT	517209
+SHUFFLE	COPY_MAP_DATA	134995000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4451102
+SHUFFLE	COMPRESS_BYTE_COUNT	1383651
+SHUFFLE	COPY_MAP_DATA	69108000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	458460436000
+MERGE	READ_WRITE	455712918000
+MERGE	READ_WRITE_COUNT	8
+MERGE	COMBINE	0
+MERGE	WRITE	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	9114450000
+SORT	READ_WRITE	8984255000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	236672944
+REDUCE	SETUP	6457000
+REDUCE	SETUP_MEM	236672944
+REDUCE	CLEANUP	36000
+REDUCE	CLEANUP_MEM	213766776
+REDUCE	TOTAL_RUN	451744849000
+REDUCE	READ	8319384000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	434468842000
+REDUCE	WRITE	245535338000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	55861466
+REDUCE	VALUE_BYTE_COUNT	1647149657
+REDUCE	REDUCE_MEM	213768824
+REDUCE	WRITE	53941000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	1133886770073
@@ -0,0 +1,989 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5467291
+SHUFFLE	COMPRESS_BYTE_COUNT	1699411
+SHUFFLE	COPY_MAP_DATA	223669000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5533111
+SHUFFLE	COMPRESS_BYTE_COUNT	1720812
+SHUFFLE	COPY_MAP_DATA	1052086000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5523331
+SHUFFLE	COMPRESS_BYTE_COUNT	1717184
+SHUFFLE	COPY_MAP_DATA	203637000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5511111
+SHUFFLE	COMPRESS_BYTE_COUNT	1712674
+SHUFFLE	COPY_MAP_DATA	910861000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5536811
+SHUFFLE	COMPRESS_BYTE_COUNT	1720459
+SHUFFLE	COPY_MAP_DATA	407096000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5447624
+SHUFFLE	COMPRESS_BYTE_COUNT	1715339
+SHUFFLE	COPY_MAP_DATA	102964000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5553106
+SHUFFLE	COMPRESS_BYTE_COUNT	1725223
+SHUFFLE	COPY_MAP_DATA	351263000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5513575
+SHUFFLE	COMPRESS_BYTE_COUNT	1713244
+SHUFFLE	COPY_MAP_DATA	259526000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5518119
+SHUFFLE	COMPRESS_BYTE_COUNT	1716514
+SHUFFLE	COPY_MAP_DATA	421119000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5442630
+SHUFFLE	COMPRESS_BYTE_COUNT	1714320
+SHUFFLE	COPY_MAP_DATA	113877000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5546323
+SHUFFLE	COMPRESS_BYTE_COUNT	1722800
+SHUFFLE	COPY_MAP_DATA	90754000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5514640
+SHUFFLE	COMPRESS_BYTE_COUNT	1715126
+SHUFFLE	COPY_MAP_DATA	107666000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5467118
+SHUFFLE	COMPRESS_BYTE_COUNT	1699438
+SHUFFLE	COPY_MAP_DATA	167042000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5457857
+SHUFFLE	COMPRESS_BYTE_COUNT	1696387
+SHUFFLE	COPY_MAP_DATA	113124000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5557124
+SHUFFLE	COMPRESS_BYTE_COUNT	1705537
+SHUFFLE	COPY_MAP_DATA	93286000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5398656
+SHUFFLE	COMPRESS_BYTE_COUNT	1701025
+SHUFFLE	COPY_MAP_DATA	99180000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5492145
+SHUFFLE	COMPRESS_BYTE_COUNT	1707928
+SHUFFLE	COPY_MAP_DATA	214670000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5551168
+SHUFFLE	COMPRESS_BYTE_COUNT	1725245
+SHUFFLE	COPY_MAP_DATA	83759000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5520188
+SHUFFLE	COMPRESS_BYTE_COUNT	1715157
+SHUFFLE	COPY_MAP_DATA	177613000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5486982
+SHUFFLE	COMPRESS_BYTE_COUNT	1705528
+SHUFFLE	COPY_MAP_DATA	91536000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5530923
+SHUFFLE	COMPRESS_BYTE_COUNT	1718611
+SHUFFLE	COPY_MAP_DATA	81877000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5503714
+SHUFFLE	COMPRESS_BYTE_COUNT	1710772
+SHUFFLE	COPY_MAP_DATA	133888000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5441664
+SHUFFLE	COMPRESS_BYTE_COUNT	1713580
+SHUFFLE	COPY_MAP_DATA	79681000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5508155
+SHUFFLE	COMPRESS_BYTE_COUNT	1712178
+SHUFFLE	COPY_MAP_DATA	205476000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5501503
+SHUFFLE	COMPRESS_BYTE_COUNT	1710753
+SHUFFLE	COPY_MAP_DATA	164748000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5498448
+SHUFFLE	COMPRESS_BYTE_COUNT	1709536
+SHUFFLE	COPY_MAP_DATA	224827000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5472204
+SHUFFLE	COMPRESS_BYTE_COUNT	1701512
+SHUFFLE	COPY_MAP_DATA	523633000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5503229
+SHUFFLE	COMPRESS_BYTE_COUNT	1709811
+SHUFFLE	COPY_MAP_DATA	171020000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5468104
+SHUFFLE	COMPRESS_BYTE_COUNT	1699690
+SHUFFLE	COPY_MAP_DATA	2076719000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5372927
+SHUFFLE	COMPRESS_BYTE_COUNT	1718102
+SHUFFLE	COPY_MAP_DATA	1656701000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5533186
+SHUFFLE	COMPRESS_BYTE_COUNT	1718893
+SHUFFLE	COPY_MAP_DATA	94525000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5544576
+SHUFFLE	COMPRESS_BYTE_COUNT	1701824
+SHUFFLE	COPY_MAP_DATA	767809000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5545886
+SHUFFLE	COMPRESS_BYTE_COUNT	1723407
+SHUFFLE	COPY_MAP_DATA	938464000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5555331
+SHUFFLE	COMPRESS_BYTE_COUNT	1705512
+SHUFFLE	COPY_MAP_DATA	98763000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5505202
+SHUFFLE	COMPRESS_BYTE_COUNT	1712220
+SHUFFLE	COPY_MAP_DATA	377328000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5508271
+SHUFFLE	COMPRESS_BYTE_COUNT	1712082
+SHUFFLE	COPY_MAP_DATA	95576000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5505135
+SHUFFLE	COMPRESS_BYTE_COUNT	1710422
+SHUFFLE	COPY_MAP_DATA	524616000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5588794
+SHUFFLE	COMPRESS_BYTE_COUNT	1715239
+SHUFFLE	COPY_MAP_DATA	509060000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5561386
+SHUFFLE	COMPRESS_BYTE_COUNT	1727743
+SHUFFLE	COPY_MAP_DATA	351784000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5542617
+SHUFFLE	COMPRESS_BYTE_COUNT	1723214
+SHUFFLE	COPY_MAP_DATA	375385000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5523450
+SHUFFLE	COMPRESS_BYTE_COUNT	1716266
+SHUFFLE	COPY_MAP_DATA	82997000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5579215
+SHUFFLE	COMPRESS_BYTE_COUNT	1713254
+SHUFFLE	COPY_MAP_DATA	485575000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5489609
+SHUFFLE	COMPRESS_BYTE_COUNT	1705141
+SHUFFLE	COPY_MAP_DATA	95136000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5464510
+SHUFFLE	COMPRESS_BYTE_COUNT	1720273
+SHUFFLE	COPY_MAP_DATA	112450000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5511164
+SHUFFLE	COMPRESS_BYTE_COUNT	1691440
+SHUFFLE	COPY_MAP_DATA	912835000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5474856
+SHUFFLE	COMPRESS_BYTE_COUNT	1702405
+SHUFFLE	COPY_MAP_DATA	4257879000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5517170
+SHUFFLE	COMPRESS_BYTE_COUNT	1714858
+SHUFFLE	COPY_MAP_DATA	7317266000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5536441
+SHUFFLE	COMPRESS_BYTE_COUNT	1699668
+SHUFFLE	COPY_MAP_DATA	89467000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5534834
+SHUFFLE	COMPRESS_BYTE_COUNT	1698727
+SHUFFLE	COPY_MAP_DATA	125899000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5448734
+SHUFFLE	COMPRESS_BYTE_COUNT	1694900
+SHUFFLE	COPY_MAP_DATA	1589886000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5564368
+SHUFFLE	COMPRESS_BYTE_COUNT	1707755
+SHUFFLE	COPY_MAP_DATA	1050027000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5548111
+SHUFFLE	COMPRESS_BYTE_COUNT	1703780
+SHUFFLE	COPY_MAP_DATA	319620000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5514794
+SHUFFLE	COMPRESS_BYTE_COUNT	1713357
+SHUFFLE	COPY_MAP_DATA	575738000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5487484
+SHUFFLE	COMPRESS_BYTE_COUNT	1685906
+SHUFFLE	COPY_MAP_DATA	187053000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5550543
+SHUFFLE	COMPRESS_BYTE_COUNT	1725839
+SHUFFLE	COPY_MAP_DATA	140372000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5435190
+SHUFFLE	COMPRESS_BYTE_COUNT	1688021
+SHUFFLE	COPY_MAP_DATA	326919000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5462572
+SHUFFLE	COMPRESS_BYTE_COUNT	1697756
+SHUFFLE	COPY_MAP_DATA	95547000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5553780
+SHUFFLE	COMPRESS_BYTE_COUNT	1705627
+SHUFFLE	COPY_MAP_DATA	909682000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5527837
+SHUFFLE	COMPRESS_BYTE_COUNT	1697837
+SHUFFLE	COPY_MAP_DATA	1384863000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5569460
+SHUFFLE	COMPRESS_BYTE_COUNT	1709116
+SHUFFLE	COPY_MAP_DATA	81295000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5552350
+SHUFFLE	COMPRESS_BYTE_COUNT	1702804
+SHUFFLE	COPY_MAP_DATA	690937000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5541730
+SHUFFLE	COMPRESS_BYTE_COUNT	1701852
+SHUFFLE	COPY_MAP_DATA	7270831000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5559519
+SHUFFLE	COMPRESS_BYTE_COUNT	1706729
+SHUFFLE	COPY_MAP_DATA	84310000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5595127
+SHUFFLE	COMPRESS_BYTE_COUNT	1715622
+SHUFFLE	COPY_MAP_DATA	163198000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5549282
+SHUFFLE	COMPRESS_BYTE_COUNT	1702916
+SHUFFLE	COPY_MAP_DATA	557770000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5579343
+SHUFFLE	COMPRESS_BYTE_COUNT	1713073
+SHUFFLE	COPY_MAP_DATA	125184000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5416794
+SHUFFLE	COMPRESS_BYTE_COUNT	1702646
+SHUFFLE	COPY_MAP_DATA	116690000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5527157
+SHUFFLE	COMPRESS_BYTE_COUNT	1696635
+SHUFFLE	COPY_MAP_DATA	81301000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5493693
+SHUFFLE	COMPRESS_BYTE_COUNT	1729611
+SHUFFLE	COPY_MAP_DATA	422834000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5528432
+SHUFFLE	COMPRESS_BYTE_COUNT	1697425
+SHUFFLE	COPY_MAP_DATA	98813000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5538159
+SHUFFLE	COMPRESS_BYTE_COUNT	1699377
+SHUFFLE	COPY_MAP_DATA	82367000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5515436
+SHUFFLE	COMPRESS_BYTE_COUNT	1693286
+SHUFFLE	COPY_MAP_DATA	769924000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5537098
+SHUFFLE	COMPRESS_BYTE_COUNT	1700736
+SHUFFLE	COPY_MAP_DATA	167506000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5537240
+SHUFFLE	COMPRESS_BYTE_COUNT	1699631
+SHUFFLE	COPY_MAP_DATA	3265053000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5570631
+SHUFFLE	COMPRESS_BYTE_COUNT	1710430
+SHUFFLE	COPY_MAP_DATA	88712000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5536062
+SHUFFLE	COMPRESS_BYTE_COUNT	1698275
+SHUFFLE	COPY_MAP_DATA	240241000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5537292
+SHUFFLE	COMPRESS_BYTE_COUNT	1698781
+SHUFFLE	COPY_MAP_DATA	1560710000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5508405
+SHUFFLE	COMPRESS_BYTE_COUNT	1691179
+SHUFFLE	COPY_MAP_DATA	188121000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5571426
+SHUFFLE	COMPRESS_BYTE_COUNT	1709993
+SHUFFLE	COPY_MAP_DATA	604996000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5539195
+SHUFFLE	COMPRESS_BYTE_COUNT	1701339
+SHUFFLE	COPY_MAP_DATA	100110000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5561592
+SHUFFLE	COMPRESS_BYTE_COUNT	1707512
+SHUFFLE	COPY_MAP_DATA	428337000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5491201
+SHUFFLE	COMPRESS_BYTE_COUNT	1685499
+SHUFFLE	COPY_MAP_DATA	3388153000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5502360
+SHUFFLE	COMPRESS_BYTE_COUNT	1690224
+SHUFFLE	COPY_MAP_DATA	81732000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5477138
+SHUFFLE	COMPRESS_BYTE_COUNT	1724018
+SHUFFLE	COPY_MAP_DATA	201837000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5555073
+SHUFFLE	COMPRESS_BYTE_COUNT	1705464
+SHUFFLE	COPY_MAP_DATA	472013000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5546705
+SHUFFLE	COMPRESS_BYTE_COUNT	1702731
+SHUFFLE	COPY_MAP_DATA	2173209000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5564722
+SHUFFLE	COMPRESS_BYTE_COUNT	1708172
+SHUFFLE	COPY_MAP_DATA	581461000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5608932
+SHUFFLE	COMPRESS_BYTE_COUNT	1719657
+SHUFFLE	COPY_MAP_DATA	2319048000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5579423
+SHUFFLE	COMPRESS_BYTE_COUNT	1711681
+SHUFFLE	COPY_MAP_DATA	1534065000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5568612
+SHUFFLE	COMPRESS_BYTE_COUNT	1710049
+SHUFFLE	COPY_MAP_DATA	1503253000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5546257
+SHUFFLE	COMPRESS_BYTE_COUNT	1703391
+SHUFFLE	COPY_MAP_DATA	87092000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5576865
+SHUFFLE	COMPRESS_BYTE_COUNT	1711868
+SHUFFLE	COPY_MAP_DATA	97895000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5570038
+SHUFFLE	COMPRESS_BYTE_COUNT	1709467
+SHUFFLE	COPY_MAP_DATA	1140381000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5540554
+SHUFFLE	COMPRESS_BYTE_COUNT	1699462
+SHUFFLE	COPY_MAP_DATA	95888000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5596238
+SHUFFLE	COMPRESS_BYTE_COUNT	1717888
+SHUFFLE	COPY_MAP_DATA	250015000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5601013
+SHUFFLE	COMPRESS_BYTE_COUNT	1718902
+SHUFFLE	COPY_MAP_DATA	121871000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5523645
+SHUFFLE	COMPRESS_BYTE_COUNT	1717076
+SHUFFLE	COPY_MAP_DATA	88625000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5548976
+SHUFFLE	COMPRESS_BYTE_COUNT	1702944
+SHUFFLE	COPY_MAP_DATA	105309000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5613188
+SHUFFLE	COMPRESS_BYTE_COUNT	1722126
+SHUFFLE	COPY_MAP_DATA	464469000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5577041
+SHUFFLE	COMPRESS_BYTE_COUNT	1711430
+SHUFFLE	COPY_MAP_DATA	87459000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5487304
+SHUFFLE	COMPRESS_BYTE_COUNT	1704671
+SHUFFLE	COPY_MAP_DATA	86678000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5553091
+SHUFFLE	COMPRESS_BYTE_COUNT	1704336
+SHUFFLE	COPY_MAP_DATA	3000818000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5529868
+SHUFFLE	COMPRESS_BYTE_COUNT	1697533
+SHUFFLE	COPY_MAP_DATA	132987000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5556979
+SHUFFLE	COMPRESS_BYTE_COUNT	1705404
+SHUFFLE	COPY_MAP_DATA	191898000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5638400
+SHUFFLE	COMPRESS_BYTE_COUNT	1729368
+SHUFFLE	COPY_MAP_DATA	654649000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5538841
+SHUFFLE	COMPRESS_BYTE_COUNT	1700040
+SHUFFLE	COPY_MAP_DATA	7935681000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5560684
+SHUFFLE	COMPRESS_BYTE_COUNT	1729576
+SHUFFLE	COPY_MAP_DATA	196581000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5523431
+SHUFFLE	COMPRESS_BYTE_COUNT	1695357
+SHUFFLE	COPY_MAP_DATA	107170000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5579124
+SHUFFLE	COMPRESS_BYTE_COUNT	1712202
+SHUFFLE	COPY_MAP_DATA	247849000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5599763
+SHUFFLE	COMPRESS_BYTE_COUNT	1717003
+SHUFFLE	COPY_MAP_DATA	106968000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5538427
+SHUFFLE	COMPRESS_BYTE_COUNT	1699748
+SHUFFLE	COPY_MAP_DATA	88036000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5507849
+SHUFFLE	COMPRESS_BYTE_COUNT	1711862
+SHUFFLE	COPY_MAP_DATA	128855000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5465126
+SHUFFLE	COMPRESS_BYTE_COUNT	1698281
+SHUFFLE	COPY_MAP_DATA	86275000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5494973
+SHUFFLE	COMPRESS_BYTE_COUNT	1707834
+SHUFFLE	COPY_MAP_DATA	95804000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5509134
+SHUFFLE	COMPRESS_BYTE_COUNT	1711833
+SHUFFLE	COPY_MAP_DATA	1202931000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5559038
+SHUFFLE	COMPRESS_BYTE_COUNT	1706174
+SHUFFLE	COPY_MAP_DATA	82541000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5598597
+SHUFFLE	COMPRESS_BYTE_COUNT	1717982
+SHUFFLE	COPY_MAP_DATA	1323075000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5572696
+SHUFFLE	COMPRESS_BYTE_COUNT	1710907
+SHUFFLE	COPY_MAP_DATA	169022000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5561101
+SHUFFLE	COMPRESS_BYTE_COUNT	1708157
+SHUFFLE	COPY_MAP_DATA	1634967000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5530759
+SHUFFLE	COMPRESS_BYTE_COUNT	1717880
+SHUFFLE	COPY_MAP_DATA	808350000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5521685
+SHUFFLE	COMPRESS_BYTE_COUNT	1715938
+SHUFFLE	COPY_MAP_DATA	87374000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5580263
+SHUFFLE	COMPRESS_BYTE_COUNT	1713601
+SHUFFLE	COPY_MAP_DATA	87723000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5489717
+SHUFFLE	COMPRESS_BYTE_COUNT	1706993
+SHUFFLE	COPY_MAP_DATA	907980000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5555952
+SHUFFLE	COMPRESS_BYTE_COUNT	1707044
+SHUFFLE	COPY_MAP_DATA	265395000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5522485
+SHUFFLE	COMPRESS_BYTE_COUNT	1717351
+SHUFFLE	COPY_MAP_DATA	106937000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5500131
+SHUFFLE	COMPRESS_BYTE_COUNT	1710975
+SHUFFLE	COPY_MAP_DATA	181189000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5473488
+SHUFFLE	COMPRESS_BYTE_COUNT	1701221
+SHUFFLE	COPY_MAP_DATA	1014744000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5495964
+SHUFFLE	COMPRESS_BYTE_COUNT	1707431
+SHUFFLE	COPY_MAP_DATA	195521000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5506141
+SHUFFLE	COMPRESS_BYTE_COUNT	1710784
+SHUFFLE	COPY_MAP_DATA	177045000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5527516
+SHUFFLE	COMPRESS_BYTE_COUNT	1718316
+SHUFFLE	COPY_MAP_DATA	177562000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5537738
+SHUFFLE	COMPRESS_BYTE_COUNT	1700211
+SHUFFLE	COPY_MAP_DATA	94821000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5470003
+SHUFFLE	COMPRESS_BYTE_COUNT	1700196
+SHUFFLE	COPY_MAP_DATA	225673000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5481456
+SHUFFLE	COMPRESS_BYTE_COUNT	1704193
+SHUFFLE	COPY_MAP_DATA	2035152000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5473956
+SHUFFLE	COMPRESS_BYTE_COUNT	1702204
+SHUFFLE	COPY_MAP_DATA	90965000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5519063
+SHUFFLE	COMPRESS_BYTE_COUNT	1714839
+SHUFFLE	COPY_MAP_DATA	314979000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5548976
+SHUFFLE	COMPRESS_BYTE_COUNT	1724477
+SHUFFLE	COPY_MAP_DATA	719020000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5504254
+SHUFFLE	COMPRESS_BYTE_COUNT	1712041
+SHUFFLE	COPY_MAP_DATA	87210000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5598599
+SHUFFLE	COMPRESS_BYTE_COUNT	1740136
+SHUFFLE	COPY_MAP_DATA	187524000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5513990
+SHUFFLE	COMPRESS_BYTE_COUNT	1714418
+SHUFFLE	COPY_MAP_DATA	476830000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5536446
+SHUFFLE	COMPRESS_BYTE_COUNT	1725629
+SHUFFLE	COPY_MAP_DATA	136570000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5535423
+SHUFFLE	COMPRESS_BYTE_COUNT	1720534
+SHUFFLE	COPY_MAP_DATA	657672000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5535978
+SHUFFLE	COMPRESS_BYTE_COUNT	1719556
+SHUFFLE	COPY_MAP_DATA	97541000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5480878
+SHUFFLE	COMPRESS_BYTE_COUNT	1703249
+SHUFFLE	COPY_MAP_DATA	87776000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5478763
+SHUFFLE	COMPRESS_BYTE_COUNT	1703491
+SHUFFLE	COPY_MAP_DATA	147881000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5548523
+SHUFFLE	COMPRESS_BYTE_COUNT	1725287
+SHUFFLE	COPY_MAP_DATA	98309000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5564940
+SHUFFLE	COMPRESS_BYTE_COUNT	1733164
+SHUFFLE	COPY_MAP_DATA	107831000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5531709
+SHUFFLE	COMPRESS_BYTE_COUNT	1719475
+SHUFFLE	COPY_MAP_DATA	86688000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5505540
+SHUFFLE	COMPRESS_BYTE_COUNT	1710349
+SHUFFLE	COPY_MAP_DATA	704702000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5534818
+SHUFFLE	COMPRESS_BYTE_COUNT	1719669
+SHUFFLE	COPY_MAP_DATA	1961238000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5544269
+SHUFFLE	COMPRESS_BYTE_COUNT	1728386
+SHUFFLE	COPY_MAP_DATA	104396000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5541378
+SHUFFLE	COMPRESS_BYTE_COUNT	1726594
+SHUFFLE	COPY_MAP_DATA	466322000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5531598
+SHUFFLE	COMPRESS_BYTE_COUNT	1719615
+SHUFFLE	COPY_MAP_DATA	145112000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5543974
+SHUFFLE	COMPRESS_BYTE_COUNT	1726757
+SHUFFLE	COPY_MAP_DATA	316813000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5522968
+SHUFFLE	COMPRESS_BYTE_COUNT	1738023
+SHUFFLE	COPY_MAP_DATA	109749000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5499176
+SHUFFLE	COMPRESS_BYTE_COUNT	1709218
+SHUFFLE	COPY_MAP_DATA	109049000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5561121
+SHUFFLE	COMPRESS_BYTE_COUNT	1728535
+SHUFFLE	COPY_MAP_DATA	441970000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5563272
+SHUFFLE	COMPRESS_BYTE_COUNT	1733784
+SHUFFLE	COPY_MAP_DATA	420561000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5551681
+SHUFFLE	COMPRESS_BYTE_COUNT	1728228
+SHUFFLE	COPY_MAP_DATA	142229000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5610258
+SHUFFLE	COMPRESS_BYTE_COUNT	1729764
+SHUFFLE	COPY_MAP_DATA	875804000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5493766
+SHUFFLE	COMPRESS_BYTE_COUNT	1742671
+SHUFFLE	COPY_MAP_DATA	106680000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5593281
+SHUFFLE	COMPRESS_BYTE_COUNT	1725924
+SHUFFLE	COPY_MAP_DATA	87632000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4711350
+SHUFFLE	COMPRESS_BYTE_COUNT	1446681
+SHUFFLE	COPY_MAP_DATA	592262000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4751265
+SHUFFLE	COMPRESS_BYTE_COUNT	1458174
+SHUFFLE	COPY_MAP_DATA	74164000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5601350
+SHUFFLE	COMPRESS_BYTE_COUNT	1729089
+SHUFFLE	COPY_MAP_DATA	462385000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4483143
+SHUFFLE	COMPRESS_BYTE_COUNT	1393081
+SHUFFLE	COPY_MAP_DATA	1418094000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5601827
+SHUFFLE	COMPRESS_BYTE_COUNT	1729035
+SHUFFLE	COPY_MAP_DATA	88172000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4532893
+SHUFFLE	COMPRESS_BYTE_COUNT	1409260
+SHUFFLE	COPY_MAP_DATA	72336000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5607338
+SHUFFLE	COMPRESS_BYTE_COUNT	1730854
+SHUFFLE	COPY_MAP_DATA	2903238000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5571543
+SHUFFLE	COMPRESS_BYTE_COUNT	1720084
+SHUFFLE	COPY_MAP_DATA	114949000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5582815
+SHUFFLE	COMPRESS_BYTE_COUNT	1722589
+SHUFFLE	COPY_MAP_DATA	1190568000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4715328
+SHUFFLE	COMPRESS_BYTE_COUNT	1447730
+SHUFFLE	COPY_MAP_DATA	77497000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5552972
+SHUFFLE	COMPRESS_BYTE_COUNT	1728531
+SHUFFLE	COPY_MAP_DATA	178601000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5592555
+SHUFFLE	COMPRESS_BYTE_COUNT	1725666
+SHUFFLE	COPY_MAP_DATA	85490000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5604158
+SHUFFLE	COMPRESS_BYTE_COUNT	1728461
+SHUFFLE	COPY_MAP_DATA	106218000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4752525
+SHUFFLE	COMPRESS_BYTE_COUNT	1459901
+SHUFFLE	COPY_MAP_DATA	126209000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4765896
+SHUFFLE	COMPRESS_BYTE_COUNT	1463268
+SHUFFLE	COPY_MAP_DATA	96931000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5593905
+SHUFFLE	COMPRESS_BYTE_COUNT	1726520
+SHUFFLE	COPY_MAP_DATA	89728000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5589266
+SHUFFLE	COMPRESS_BYTE_COUNT	1725288
+SHUFFLE	COPY_MAP_DATA	130850000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4694480
+SHUFFLE	COMPRESS_BYTE_COUNT	1441998
+SHUFFLE	COPY_MAP_DATA	74116000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5575655
+SHUFFLE	COMPRESS_BYTE_COUNT	1720497
+SHUFFLE	COPY_MAP_DATA	218305000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4776227
+SHUFFLE	COMPRESS_BYTE_COUNT	1465622
+SHUFFLE	COPY_MAP_DATA	74534000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5548141
+SHUFFLE	COMPRESS_BYTE_COUNT	1729409
+SHUFFLE	COPY_MAP_DATA	494833000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5561551
+SHUFFLE	COMPRESS_BYTE_COUNT	1733178
+SHUFFLE	COPY_MAP_DATA	117235000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5568904
+SHUFFLE	COMPRESS_BYTE_COUNT	1734744
+SHUFFLE	COPY_MAP_DATA	180165000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1740625
+SHUFFLE	COMPRESS_BYTE_COUNT	538467
+SHUFFLE	COPY_MAP_DATA	41083000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5546087
+SHUFFLE	COMPRESS_BYTE_COUNT	1727787
+SHUFFLE	COPY_MAP_DATA	623758000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5563037
+SHUFFLE	COMPRESS_BYTE_COUNT	1733309
+SHUFFLE	COPY_MAP_DATA	140717000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4754765
+SHUFFLE	COMPRESS_BYTE_COUNT	1458931
+SHUFFLE	COPY_MAP_DATA	239078000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4741128
+SHUFFLE	COMPRESS_BYTE_COUNT	1455608
+SHUFFLE	COPY_MAP_DATA	380985000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5552400
+SHUFFLE	COMPRESS_BYTE_COUNT	1730773
+SHUFFLE	COPY_MAP_DATA	173977000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4429615
+SHUFFLE	COMPRESS_BYTE_COUNT	1376191
+SHUFFLE	COPY_MAP_DATA	199209000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4446781
+SHUFFLE	COMPRESS_BYTE_COUNT	1382519
+SHUFFLE	COPY_MAP_DATA	420841000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4459967
+SHUFFLE	COMPRESS_BYTE_COUNT	1385944
+SHUFFLE	COPY_MAP_DATA	252818000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4269110
+SHUFFLE	COMPRESS_BYTE_COUNT	1327216
+SHUFFLE	COPY_MAP_DATA	76611000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4507152
+SHUFFLE	COMPRESS_BYTE_COUNT	1400155
+SHUFFLE	COPY_MAP_DATA	79640000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1736347
+SHUFFLE	COMPRESS_BYTE_COUNT	537460
+SHUFFLE	COPY_MAP_DATA	16266363000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5587462
+SHUFFLE	COMPRESS_BYTE_COUNT	1725144
+SHUFFLE	COPY_MAP_DATA	112881000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1748488
+SHUFFLE	COMPRESS_BYTE_COUNT	539903
+SHUFFLE	COPY_MAP_DATA	39753000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1671473
+SHUFFLE	COMPRESS_BYTE_COUNT	521950
+SHUFFLE	COPY_MAP_DATA	28630000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1733174
+SHUFFLE	COMPRESS_BYTE_COUNT	536232
+SHUFFLE	COPY_MAP_DATA	37158000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1739848
+SHUFFLE	COMPRESS_BYTE_COUNT	538079
+SHUFFLE	COPY_MAP_DATA	29999000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4439562
+SHUFFLE	COMPRESS_BYTE_COUNT	1378723
+SHUFFLE	COPY_MAP_DATA	74666000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1747483
+SHUFFLE	COMPRESS_BYTE_COUNT	540050
+SHUFFLE	COPY_MAP_DATA	58489000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1744144
+SHUFFLE	COMPRESS_BYTE_COUNT	539217
+SHUFFLE	COPY_MAP_DATA	28404000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1744396
+SHUFFLE	COMPRESS_BYTE_COUNT	538547
+SHUFFLE	COPY_MAP_DATA	26601000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1662972
+SHUFFLE	COMPRESS_BYTE_COUNT	518959
+SHUFFLE	COPY_MAP_DATA	50975000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4492169
+SHUFFLE	COMPRESS_BYTE_COUNT	1395540
+SHUFFLE	COPY_MAP_DATA	77263000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5552948
+SHUFFLE	COMPRESS_BYTE_COUNT	1729062
+SHUFFLE	COPY_MAP_DATA	109757000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1735221
+SHUFFLE	COMPRESS_BYTE_COUNT	537323
+SHUFFLE	COPY_MAP_DATA	29011000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1658010
+SHUFFLE	COMPRESS_BYTE_COUNT	517607
+SHUFFLE	COPY_MAP_DATA	36810000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4686741
+SHUFFLE	COMPRESS_BYTE_COUNT	1439134
+SHUFFLE	COPY_MAP_DATA	74137000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1663657
+SHUFFLE	COMPRESS_BYTE_COUNT	518621
+SHUFFLE	COPY_MAP_DATA	163425000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1668531
+SHUFFLE	COMPRESS_BYTE_COUNT	520006
+SHUFFLE	COPY_MAP_DATA	657675000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1661529
+SHUFFLE	COMPRESS_BYTE_COUNT	518683
+SHUFFLE	COPY_MAP_DATA	49699000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4720280
+SHUFFLE	COMPRESS_BYTE_COUNT	1448883
+SHUFFLE	COPY_MAP_DATA	119690000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4493631
+SHUFFLE	COMPRESS_BYTE_COUNT	1396681
+SHUFFLE	COPY_MAP_DATA	71224000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4743260
+SHUFFLE	COMPRESS_BYTE_COUNT	1455010
+SHUFFLE	COPY_MAP_DATA	81795000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4504326
+SHUFFLE	COMPRESS_BYTE_COUNT	1382544
+SHUFFLE	COPY_MAP_DATA	903708000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4450626
+SHUFFLE	COMPRESS_BYTE_COUNT	1383076
+SHUFFLE	COPY_MAP_DATA	67498000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1657292
+SHUFFLE	COMPRESS_BYTE_COUNT	517294
+SHUFFLE	COPY_MAP_DATA	145956000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4398917
+SHUFFLE	COMPRESS_BYTE_COUNT	1366349
+SHUFFLE	COPY_MAP_DATA	334387000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4147693
+SHUFFLE	COMPRESS_BYTE_COUNT	1306103
+SHUFFLE	COPY_MAP_DATA	240469000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1732649
+SHUFFLE	COMPRESS_BYTE_COUNT	536083
+SHUFFLE	COPY_MAP_DATA	122056000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4421795
+SHUFFLE	COMPRESS_BYTE_COUNT	1374471
+SHUFFLE	COPY_MAP_DATA	78283000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1669847
+SHUFFLE	COMPRESS_BYTE_COUNT	521307
+SHUFFLE	COPY_MAP_DATA	27834000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4746963
+SHUFFLE	COMPRESS_BYTE_COUNT	1457507
+SHUFFLE	COPY_MAP_DATA	82163000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4497181
+SHUFFLE	COMPRESS_BYTE_COUNT	1396495
+SHUFFLE	COPY_MAP_DATA	301087000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1744353
+SHUFFLE	COMPRESS_BYTE_COUNT	538715
+SHUFFLE	COPY_MAP_DATA	273287000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1735206
+SHUFFLE	COMPRESS_BYTE_COUNT	536313
+SHUFFLE	COPY_MAP_DATA	44510000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1667923
+SHUFFLE	COMPRESS_BYTE_COUNT	520854
+SHUFFLE	COPY_MAP_DATA	279086000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1666469
+SHUFFLE	COMPRESS_BYTE_COUNT	520029
+SHUFFLE	COPY_MAP_DATA	25661000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1735208
+SHUFFLE	COMPRESS_BYTE_COUNT	536628
+SHUFFLE	COPY_MAP_DATA	42049000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1670900
+SHUFFLE	COMPRESS_BYTE_COUNT	521308
+SHUFFLE	COPY_MAP_DATA	26488000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1579142
+SHUFFLE	COMPRESS_BYTE_COUNT	498409
+SHUFFLE	COPY_MAP_DATA	25057000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1690761
+SHUFFLE	COMPRESS_BYTE_COUNT	522841
+SHUFFLE	COPY_MAP_DATA	27073000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1662117
+SHUFFLE	COMPRESS_BYTE_COUNT	519086
+SHUFFLE	COPY_MAP_DATA	26433000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1673604
+SHUFFLE	COMPRESS_BYTE_COUNT	522313
+SHUFFLE	COPY_MAP_DATA	29819000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1616405
+SHUFFLE	COMPRESS_BYTE_COUNT	504626
+SHUFFLE	COPY_MAP_DATA	25510000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4419848
+SHUFFLE	COMPRESS_BYTE_COUNT	1374975
+SHUFFLE	COPY_MAP_DATA	107378000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1659433
+SHUFFLE	COMPRESS_BYTE_COUNT	517413
+SHUFFLE	COPY_MAP_DATA	25817000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	407968567000
+MERGE	READ_WRITE	391801906000
+MERGE	READ_WRITE_COUNT	8
+MERGE	COMBINE	0
+MERGE	WRITE	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	10857202000
+SORT	READ_WRITE	10687386000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	220654552
+REDUCE	SETUP	388000
+REDUCE	SETUP_MEM	220654552
+REDUCE	CLEANUP	35000
+REDUCE	CLEANUP_MEM	220263080
+REDUCE	TOTAL_RUN	434198710102
+REDUCE	READ	7679748000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	417747218102
+REDUCE	WRITE	239121895102
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	55885616
+REDUCE	VALUE_BYTE_COUNT	1647679359
+REDUCE	REDUCE_MEM	220265128
+REDUCE	WRITE	1051205000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	1108522984102
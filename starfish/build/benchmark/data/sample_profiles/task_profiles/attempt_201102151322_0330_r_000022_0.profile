@@ -0,0 +1,989 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5501090
+SHUFFLE	COMPRESS_BYTE_COUNT	1710995
+SHUFFLE	COPY_MAP_DATA	346259000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5525339
+SHUFFLE	COMPRESS_BYTE_COUNT	1717452
+SHUFFLE	COPY_MAP_DATA	330429000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5562756
+SHUFFLE	COMPRESS_BYTE_COUNT	1708044
+SHUFFLE	COPY_MAP_DATA	177726000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5525275
+SHUFFLE	COMPRESS_BYTE_COUNT	1717612
+SHUFFLE	COPY_MAP_DATA	858535000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5566140
+SHUFFLE	COMPRESS_BYTE_COUNT	1729804
+SHUFFLE	COPY_MAP_DATA	137313000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5565315
+SHUFFLE	COMPRESS_BYTE_COUNT	1729033
+SHUFFLE	COPY_MAP_DATA	124663000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5481053
+SHUFFLE	COMPRESS_BYTE_COUNT	1725009
+SHUFFLE	COPY_MAP_DATA	145592000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5447313
+SHUFFLE	COMPRESS_BYTE_COUNT	1715760
+SHUFFLE	COPY_MAP_DATA	99109000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5529952
+SHUFFLE	COMPRESS_BYTE_COUNT	1719382
+SHUFFLE	COPY_MAP_DATA	429342000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5516593
+SHUFFLE	COMPRESS_BYTE_COUNT	1715618
+SHUFFLE	COPY_MAP_DATA	136792000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5580853
+SHUFFLE	COMPRESS_BYTE_COUNT	1734075
+SHUFFLE	COPY_MAP_DATA	134982000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5419272
+SHUFFLE	COMPRESS_BYTE_COUNT	1684793
+SHUFFLE	COPY_MAP_DATA	239677000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5524071
+SHUFFLE	COMPRESS_BYTE_COUNT	1716824
+SHUFFLE	COPY_MAP_DATA	246706000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5528579
+SHUFFLE	COMPRESS_BYTE_COUNT	1719217
+SHUFFLE	COPY_MAP_DATA	1094308000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5524584
+SHUFFLE	COMPRESS_BYTE_COUNT	1717606
+SHUFFLE	COPY_MAP_DATA	393597000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5579567
+SHUFFLE	COMPRESS_BYTE_COUNT	1733882
+SHUFFLE	COPY_MAP_DATA	350098000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5499721
+SHUFFLE	COMPRESS_BYTE_COUNT	1709792
+SHUFFLE	COPY_MAP_DATA	182908000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5439083
+SHUFFLE	COMPRESS_BYTE_COUNT	1713198
+SHUFFLE	COPY_MAP_DATA	86357000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5481902
+SHUFFLE	COMPRESS_BYTE_COUNT	1725292
+SHUFFLE	COPY_MAP_DATA	183448000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5498940
+SHUFFLE	COMPRESS_BYTE_COUNT	1708576
+SHUFFLE	COPY_MAP_DATA	93903000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5492324
+SHUFFLE	COMPRESS_BYTE_COUNT	1707305
+SHUFFLE	COPY_MAP_DATA	122422000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5526032
+SHUFFLE	COMPRESS_BYTE_COUNT	1716954
+SHUFFLE	COPY_MAP_DATA	85992000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5505821
+SHUFFLE	COMPRESS_BYTE_COUNT	1711440
+SHUFFLE	COPY_MAP_DATA	86687000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5458477
+SHUFFLE	COMPRESS_BYTE_COUNT	1696203
+SHUFFLE	COPY_MAP_DATA	140400000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5468614
+SHUFFLE	COMPRESS_BYTE_COUNT	1701247
+SHUFFLE	COPY_MAP_DATA	554092000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5535697
+SHUFFLE	COMPRESS_BYTE_COUNT	1720941
+SHUFFLE	COPY_MAP_DATA	221398000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5540116
+SHUFFLE	COMPRESS_BYTE_COUNT	1721929
+SHUFFLE	COPY_MAP_DATA	111324000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5505568
+SHUFFLE	COMPRESS_BYTE_COUNT	1710205
+SHUFFLE	COPY_MAP_DATA	1415612000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5517791
+SHUFFLE	COMPRESS_BYTE_COUNT	1714476
+SHUFFLE	COPY_MAP_DATA	135049000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5458411
+SHUFFLE	COMPRESS_BYTE_COUNT	1744392
+SHUFFLE	COPY_MAP_DATA	429327000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5553065
+SHUFFLE	COMPRESS_BYTE_COUNT	1725901
+SHUFFLE	COPY_MAP_DATA	1089848000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5595389
+SHUFFLE	COMPRESS_BYTE_COUNT	1716977
+SHUFFLE	COPY_MAP_DATA	82864000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5550088
+SHUFFLE	COMPRESS_BYTE_COUNT	1724673
+SHUFFLE	COPY_MAP_DATA	207354000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5599541
+SHUFFLE	COMPRESS_BYTE_COUNT	1718328
+SHUFFLE	COPY_MAP_DATA	92197000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5492951
+SHUFFLE	COMPRESS_BYTE_COUNT	1707003
+SHUFFLE	COPY_MAP_DATA	208130000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5542241
+SHUFFLE	COMPRESS_BYTE_COUNT	1722354
+SHUFFLE	COPY_MAP_DATA	310181000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5566254
+SHUFFLE	COMPRESS_BYTE_COUNT	1729594
+SHUFFLE	COPY_MAP_DATA	450869000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5485616
+SHUFFLE	COMPRESS_BYTE_COUNT	1704817
+SHUFFLE	COPY_MAP_DATA	444387000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5558476
+SHUFFLE	COMPRESS_BYTE_COUNT	1706144
+SHUFFLE	COPY_MAP_DATA	268808000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5553349
+SHUFFLE	COMPRESS_BYTE_COUNT	1725961
+SHUFFLE	COPY_MAP_DATA	2350520000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5540382
+SHUFFLE	COMPRESS_BYTE_COUNT	1700409
+SHUFFLE	COPY_MAP_DATA	82548000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5512699
+SHUFFLE	COMPRESS_BYTE_COUNT	1713181
+SHUFFLE	COPY_MAP_DATA	483724000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5473489
+SHUFFLE	COMPRESS_BYTE_COUNT	1702000
+SHUFFLE	COPY_MAP_DATA	85929000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5441905
+SHUFFLE	COMPRESS_BYTE_COUNT	1712894
+SHUFFLE	COPY_MAP_DATA	174290000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5516585
+SHUFFLE	COMPRESS_BYTE_COUNT	1713967
+SHUFFLE	COPY_MAP_DATA	2674417982
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5520393
+SHUFFLE	COMPRESS_BYTE_COUNT	1694775
+SHUFFLE	COPY_MAP_DATA	107917000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5512877
+SHUFFLE	COMPRESS_BYTE_COUNT	1713020
+SHUFFLE	COPY_MAP_DATA	8607204000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5501817
+SHUFFLE	COMPRESS_BYTE_COUNT	1709317
+SHUFFLE	COPY_MAP_DATA	1367134000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5553371
+SHUFFLE	COMPRESS_BYTE_COUNT	1705099
+SHUFFLE	COPY_MAP_DATA	109075000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5583223
+SHUFFLE	COMPRESS_BYTE_COUNT	1713871
+SHUFFLE	COPY_MAP_DATA	261703000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5597334
+SHUFFLE	COMPRESS_BYTE_COUNT	1718219
+SHUFFLE	COPY_MAP_DATA	299255000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5538610
+SHUFFLE	COMPRESS_BYTE_COUNT	1721157
+SHUFFLE	COPY_MAP_DATA	595823000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5587406
+SHUFFLE	COMPRESS_BYTE_COUNT	1715049
+SHUFFLE	COPY_MAP_DATA	252729000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5576901
+SHUFFLE	COMPRESS_BYTE_COUNT	1733467
+SHUFFLE	COPY_MAP_DATA	1628530000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5560029
+SHUFFLE	COMPRESS_BYTE_COUNT	1706496
+SHUFFLE	COPY_MAP_DATA	198819000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5532267
+SHUFFLE	COMPRESS_BYTE_COUNT	1716189
+SHUFFLE	COPY_MAP_DATA	1570114000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5564234
+SHUFFLE	COMPRESS_BYTE_COUNT	1728648
+SHUFFLE	COPY_MAP_DATA	194195000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5553130
+SHUFFLE	COMPRESS_BYTE_COUNT	1704089
+SHUFFLE	COPY_MAP_DATA	1417988000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5557209
+SHUFFLE	COMPRESS_BYTE_COUNT	1704684
+SHUFFLE	COPY_MAP_DATA	85082000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5557869
+SHUFFLE	COMPRESS_BYTE_COUNT	1706969
+SHUFFLE	COPY_MAP_DATA	105251000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5524138
+SHUFFLE	COMPRESS_BYTE_COUNT	1696692
+SHUFFLE	COPY_MAP_DATA	141361000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5553369
+SHUFFLE	COMPRESS_BYTE_COUNT	1705338
+SHUFFLE	COPY_MAP_DATA	7153775000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5528424
+SHUFFLE	COMPRESS_BYTE_COUNT	1697370
+SHUFFLE	COPY_MAP_DATA	85529000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5550646
+SHUFFLE	COMPRESS_BYTE_COUNT	1704087
+SHUFFLE	COPY_MAP_DATA	478852000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5579429
+SHUFFLE	COMPRESS_BYTE_COUNT	1712373
+SHUFFLE	COPY_MAP_DATA	85876000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5538838
+SHUFFLE	COMPRESS_BYTE_COUNT	1699580
+SHUFFLE	COPY_MAP_DATA	106690000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5546700
+SHUFFLE	COMPRESS_BYTE_COUNT	1702841
+SHUFFLE	COPY_MAP_DATA	649777000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5514844
+SHUFFLE	COMPRESS_BYTE_COUNT	1732283
+SHUFFLE	COPY_MAP_DATA	84284000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5422147
+SHUFFLE	COMPRESS_BYTE_COUNT	1706767
+SHUFFLE	COPY_MAP_DATA	185892000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5496018
+SHUFFLE	COMPRESS_BYTE_COUNT	1687527
+SHUFFLE	COPY_MAP_DATA	80847000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5569715
+SHUFFLE	COMPRESS_BYTE_COUNT	1709887
+SHUFFLE	COPY_MAP_DATA	972615000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5556919
+SHUFFLE	COMPRESS_BYTE_COUNT	1705314
+SHUFFLE	COPY_MAP_DATA	494621000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5509614
+SHUFFLE	COMPRESS_BYTE_COUNT	1690571
+SHUFFLE	COPY_MAP_DATA	93281000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5574659
+SHUFFLE	COMPRESS_BYTE_COUNT	1710485
+SHUFFLE	COPY_MAP_DATA	87464000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5563463
+SHUFFLE	COMPRESS_BYTE_COUNT	1707322
+SHUFFLE	COPY_MAP_DATA	109307000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5510736
+SHUFFLE	COMPRESS_BYTE_COUNT	1691080
+SHUFFLE	COPY_MAP_DATA	174710000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5514444
+SHUFFLE	COMPRESS_BYTE_COUNT	1693475
+SHUFFLE	COPY_MAP_DATA	86222000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5600986
+SHUFFLE	COMPRESS_BYTE_COUNT	1717914
+SHUFFLE	COPY_MAP_DATA	86992000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5516557
+SHUFFLE	COMPRESS_BYTE_COUNT	1693862
+SHUFFLE	COPY_MAP_DATA	1690410000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5523975
+SHUFFLE	COMPRESS_BYTE_COUNT	1694015
+SHUFFLE	COPY_MAP_DATA	105869000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5596651
+SHUFFLE	COMPRESS_BYTE_COUNT	1718157
+SHUFFLE	COPY_MAP_DATA	86829000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5556729
+SHUFFLE	COMPRESS_BYTE_COUNT	1704886
+SHUFFLE	COPY_MAP_DATA	544263000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5505273
+SHUFFLE	COMPRESS_BYTE_COUNT	1733681
+SHUFFLE	COPY_MAP_DATA	5935066000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5544880
+SHUFFLE	COMPRESS_BYTE_COUNT	1702039
+SHUFFLE	COPY_MAP_DATA	86066000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5555092
+SHUFFLE	COMPRESS_BYTE_COUNT	1705712
+SHUFFLE	COPY_MAP_DATA	94124000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5527753
+SHUFFLE	COMPRESS_BYTE_COUNT	1696391
+SHUFFLE	COPY_MAP_DATA	3090267000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5533052
+SHUFFLE	COMPRESS_BYTE_COUNT	1698759
+SHUFFLE	COPY_MAP_DATA	146846000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5548846
+SHUFFLE	COMPRESS_BYTE_COUNT	1701908
+SHUFFLE	COPY_MAP_DATA	2070361000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5572774
+SHUFFLE	COMPRESS_BYTE_COUNT	1711138
+SHUFFLE	COPY_MAP_DATA	142565000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5574066
+SHUFFLE	COMPRESS_BYTE_COUNT	1711459
+SHUFFLE	COPY_MAP_DATA	7169601000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5570832
+SHUFFLE	COMPRESS_BYTE_COUNT	1709431
+SHUFFLE	COPY_MAP_DATA	97586000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5571059
+SHUFFLE	COMPRESS_BYTE_COUNT	1710737
+SHUFFLE	COPY_MAP_DATA	1224978000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5527627
+SHUFFLE	COMPRESS_BYTE_COUNT	1696066
+SHUFFLE	COPY_MAP_DATA	84598000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5531169
+SHUFFLE	COMPRESS_BYTE_COUNT	1697220
+SHUFFLE	COPY_MAP_DATA	95316000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5546711
+SHUFFLE	COMPRESS_BYTE_COUNT	1703098
+SHUFFLE	COPY_MAP_DATA	95639000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5538586
+SHUFFLE	COMPRESS_BYTE_COUNT	1699703
+SHUFFLE	COPY_MAP_DATA	562394000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5490722
+SHUFFLE	COMPRESS_BYTE_COUNT	1706423
+SHUFFLE	COPY_MAP_DATA	384104000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5591174
+SHUFFLE	COMPRESS_BYTE_COUNT	1716293
+SHUFFLE	COPY_MAP_DATA	165467000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5540077
+SHUFFLE	COMPRESS_BYTE_COUNT	1721203
+SHUFFLE	COPY_MAP_DATA	110689000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5515835
+SHUFFLE	COMPRESS_BYTE_COUNT	1693509
+SHUFFLE	COPY_MAP_DATA	575575000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5553158
+SHUFFLE	COMPRESS_BYTE_COUNT	1705262
+SHUFFLE	COPY_MAP_DATA	826066000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5545460
+SHUFFLE	COMPRESS_BYTE_COUNT	1702937
+SHUFFLE	COPY_MAP_DATA	181658000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5571462
+SHUFFLE	COMPRESS_BYTE_COUNT	1708768
+SHUFFLE	COPY_MAP_DATA	102731000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5577389
+SHUFFLE	COMPRESS_BYTE_COUNT	1711750
+SHUFFLE	COPY_MAP_DATA	97252000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5582862
+SHUFFLE	COMPRESS_BYTE_COUNT	1714664
+SHUFFLE	COPY_MAP_DATA	167577000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5549387
+SHUFFLE	COMPRESS_BYTE_COUNT	1704478
+SHUFFLE	COPY_MAP_DATA	380618000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5543864
+SHUFFLE	COMPRESS_BYTE_COUNT	1702206
+SHUFFLE	COPY_MAP_DATA	2599274000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5501831
+SHUFFLE	COMPRESS_BYTE_COUNT	1710373
+SHUFFLE	COPY_MAP_DATA	86013000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5610261
+SHUFFLE	COMPRESS_BYTE_COUNT	1722475
+SHUFFLE	COPY_MAP_DATA	1067744000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5545491
+SHUFFLE	COMPRESS_BYTE_COUNT	1702402
+SHUFFLE	COPY_MAP_DATA	82260000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5527453
+SHUFFLE	COMPRESS_BYTE_COUNT	1718377
+SHUFFLE	COPY_MAP_DATA	110731000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5466894
+SHUFFLE	COMPRESS_BYTE_COUNT	1699336
+SHUFFLE	COPY_MAP_DATA	229170000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5514679
+SHUFFLE	COMPRESS_BYTE_COUNT	1713855
+SHUFFLE	COPY_MAP_DATA	624958000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5572842
+SHUFFLE	COMPRESS_BYTE_COUNT	1710497
+SHUFFLE	COPY_MAP_DATA	123356000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5586940
+SHUFFLE	COMPRESS_BYTE_COUNT	1715517
+SHUFFLE	COPY_MAP_DATA	3261375000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5518077
+SHUFFLE	COMPRESS_BYTE_COUNT	1715464
+SHUFFLE	COPY_MAP_DATA	81988000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5515972
+SHUFFLE	COMPRESS_BYTE_COUNT	1693588
+SHUFFLE	COPY_MAP_DATA	2162552000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5527179
+SHUFFLE	COMPRESS_BYTE_COUNT	1696745
+SHUFFLE	COPY_MAP_DATA	230168000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5489950
+SHUFFLE	COMPRESS_BYTE_COUNT	1685330
+SHUFFLE	COPY_MAP_DATA	444717000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5525638
+SHUFFLE	COMPRESS_BYTE_COUNT	1717672
+SHUFFLE	COPY_MAP_DATA	349272000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5512635
+SHUFFLE	COMPRESS_BYTE_COUNT	1712606
+SHUFFLE	COPY_MAP_DATA	8142400000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5561132
+SHUFFLE	COMPRESS_BYTE_COUNT	1705904
+SHUFFLE	COPY_MAP_DATA	3391874000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5473509
+SHUFFLE	COMPRESS_BYTE_COUNT	1701793
+SHUFFLE	COPY_MAP_DATA	254109000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5553232
+SHUFFLE	COMPRESS_BYTE_COUNT	1725589
+SHUFFLE	COPY_MAP_DATA	87067000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5567120
+SHUFFLE	COMPRESS_BYTE_COUNT	1708468
+SHUFFLE	COPY_MAP_DATA	95584000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5509749
+SHUFFLE	COMPRESS_BYTE_COUNT	1713028
+SHUFFLE	COPY_MAP_DATA	120904000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5524401
+SHUFFLE	COMPRESS_BYTE_COUNT	1716644
+SHUFFLE	COPY_MAP_DATA	87427000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5528512
+SHUFFLE	COMPRESS_BYTE_COUNT	1717237
+SHUFFLE	COPY_MAP_DATA	268252000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5484135
+SHUFFLE	COMPRESS_BYTE_COUNT	1704555
+SHUFFLE	COPY_MAP_DATA	87914000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5556825
+SHUFFLE	COMPRESS_BYTE_COUNT	1726901
+SHUFFLE	COPY_MAP_DATA	107632000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5551480
+SHUFFLE	COMPRESS_BYTE_COUNT	1703735
+SHUFFLE	COPY_MAP_DATA	2299158000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5539830
+SHUFFLE	COMPRESS_BYTE_COUNT	1722022
+SHUFFLE	COPY_MAP_DATA	541851000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5502777
+SHUFFLE	COMPRESS_BYTE_COUNT	1710324
+SHUFFLE	COPY_MAP_DATA	2631673000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5454242
+SHUFFLE	COMPRESS_BYTE_COUNT	1695288
+SHUFFLE	COPY_MAP_DATA	86058000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5541704
+SHUFFLE	COMPRESS_BYTE_COUNT	1721964
+SHUFFLE	COPY_MAP_DATA	87069000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5487866
+SHUFFLE	COMPRESS_BYTE_COUNT	1706727
+SHUFFLE	COPY_MAP_DATA	85197000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5494761
+SHUFFLE	COMPRESS_BYTE_COUNT	1708290
+SHUFFLE	COPY_MAP_DATA	86324000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5507622
+SHUFFLE	COMPRESS_BYTE_COUNT	1711332
+SHUFFLE	COPY_MAP_DATA	145761000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5470501
+SHUFFLE	COMPRESS_BYTE_COUNT	1700203
+SHUFFLE	COPY_MAP_DATA	85118000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5531980
+SHUFFLE	COMPRESS_BYTE_COUNT	1724241
+SHUFFLE	COPY_MAP_DATA	86448000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5450592
+SHUFFLE	COMPRESS_BYTE_COUNT	1695250
+SHUFFLE	COPY_MAP_DATA	88232000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5494936
+SHUFFLE	COMPRESS_BYTE_COUNT	1709053
+SHUFFLE	COPY_MAP_DATA	85411000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5559323
+SHUFFLE	COMPRESS_BYTE_COUNT	1727914
+SHUFFLE	COPY_MAP_DATA	153725000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5560175
+SHUFFLE	COMPRESS_BYTE_COUNT	1732694
+SHUFFLE	COPY_MAP_DATA	86991000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5524372
+SHUFFLE	COMPRESS_BYTE_COUNT	1715720
+SHUFFLE	COPY_MAP_DATA	153727000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5504500
+SHUFFLE	COMPRESS_BYTE_COUNT	1709392
+SHUFFLE	COPY_MAP_DATA	284009000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5465338
+SHUFFLE	COMPRESS_BYTE_COUNT	1699410
+SHUFFLE	COPY_MAP_DATA	84925000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5490695
+SHUFFLE	COMPRESS_BYTE_COUNT	1707796
+SHUFFLE	COPY_MAP_DATA	625766000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5549241
+SHUFFLE	COMPRESS_BYTE_COUNT	1728027
+SHUFFLE	COPY_MAP_DATA	91073000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5494429
+SHUFFLE	COMPRESS_BYTE_COUNT	1707581
+SHUFFLE	COPY_MAP_DATA	120124000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5551835
+SHUFFLE	COMPRESS_BYTE_COUNT	1729006
+SHUFFLE	COPY_MAP_DATA	297551000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5488717
+SHUFFLE	COMPRESS_BYTE_COUNT	1706269
+SHUFFLE	COPY_MAP_DATA	847211000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5554206
+SHUFFLE	COMPRESS_BYTE_COUNT	1730329
+SHUFFLE	COPY_MAP_DATA	6369775000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5526477
+SHUFFLE	COMPRESS_BYTE_COUNT	1738922
+SHUFFLE	COPY_MAP_DATA	105957000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5514422
+SHUFFLE	COMPRESS_BYTE_COUNT	1714018
+SHUFFLE	COPY_MAP_DATA	87736000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5497149
+SHUFFLE	COMPRESS_BYTE_COUNT	1707989
+SHUFFLE	COPY_MAP_DATA	104818000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5557618
+SHUFFLE	COMPRESS_BYTE_COUNT	1729746
+SHUFFLE	COPY_MAP_DATA	113914000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5570541
+SHUFFLE	COMPRESS_BYTE_COUNT	1734286
+SHUFFLE	COPY_MAP_DATA	207222000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5602590
+SHUFFLE	COMPRESS_BYTE_COUNT	1729383
+SHUFFLE	COPY_MAP_DATA	174497000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5490890
+SHUFFLE	COMPRESS_BYTE_COUNT	1741619
+SHUFFLE	COPY_MAP_DATA	317787000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5588405
+SHUFFLE	COMPRESS_BYTE_COUNT	1725319
+SHUFFLE	COPY_MAP_DATA	397381000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4688118
+SHUFFLE	COMPRESS_BYTE_COUNT	1438915
+SHUFFLE	COPY_MAP_DATA	362762000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4532919
+SHUFFLE	COMPRESS_BYTE_COUNT	1409097
+SHUFFLE	COPY_MAP_DATA	101447000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5596517
+SHUFFLE	COMPRESS_BYTE_COUNT	1728849
+SHUFFLE	COPY_MAP_DATA	146623000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4738508
+SHUFFLE	COMPRESS_BYTE_COUNT	1455029
+SHUFFLE	COPY_MAP_DATA	733890000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5602202
+SHUFFLE	COMPRESS_BYTE_COUNT	1729209
+SHUFFLE	COPY_MAP_DATA	103556000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5586465
+SHUFFLE	COMPRESS_BYTE_COUNT	1724497
+SHUFFLE	COPY_MAP_DATA	275227000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5580531
+SHUFFLE	COMPRESS_BYTE_COUNT	1722150
+SHUFFLE	COPY_MAP_DATA	94994000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5581826
+SHUFFLE	COMPRESS_BYTE_COUNT	1723157
+SHUFFLE	COPY_MAP_DATA	119085000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4700032
+SHUFFLE	COMPRESS_BYTE_COUNT	1443248
+SHUFFLE	COPY_MAP_DATA	475213000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5605575
+SHUFFLE	COMPRESS_BYTE_COUNT	1730192
+SHUFFLE	COPY_MAP_DATA	115106000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4493244
+SHUFFLE	COMPRESS_BYTE_COUNT	1397154
+SHUFFLE	COPY_MAP_DATA	723169000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5598654
+SHUFFLE	COMPRESS_BYTE_COUNT	1727884
+SHUFFLE	COPY_MAP_DATA	106794000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5551585
+SHUFFLE	COMPRESS_BYTE_COUNT	1727849
+SHUFFLE	COPY_MAP_DATA	484123000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4762454
+SHUFFLE	COMPRESS_BYTE_COUNT	1462372
+SHUFFLE	COPY_MAP_DATA	71394000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5589872
+SHUFFLE	COMPRESS_BYTE_COUNT	1724892
+SHUFFLE	COPY_MAP_DATA	131973000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5592954
+SHUFFLE	COMPRESS_BYTE_COUNT	1726441
+SHUFFLE	COPY_MAP_DATA	149349000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4717821
+SHUFFLE	COMPRESS_BYTE_COUNT	1447986
+SHUFFLE	COPY_MAP_DATA	120598000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4728497
+SHUFFLE	COMPRESS_BYTE_COUNT	1451527
+SHUFFLE	COPY_MAP_DATA	80171000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5576316
+SHUFFLE	COMPRESS_BYTE_COUNT	1720609
+SHUFFLE	COPY_MAP_DATA	82159000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4754972
+SHUFFLE	COMPRESS_BYTE_COUNT	1459180
+SHUFFLE	COPY_MAP_DATA	70329000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5564361
+SHUFFLE	COMPRESS_BYTE_COUNT	1733017
+SHUFFLE	COPY_MAP_DATA	1020630000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5554005
+SHUFFLE	COMPRESS_BYTE_COUNT	1730720
+SHUFFLE	COPY_MAP_DATA	151485000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5553710
+SHUFFLE	COMPRESS_BYTE_COUNT	1730834
+SHUFFLE	COPY_MAP_DATA	519372000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1744129
+SHUFFLE	COMPRESS_BYTE_COUNT	539125
+SHUFFLE	COPY_MAP_DATA	27717000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5551650
+SHUFFLE	COMPRESS_BYTE_COUNT	1729567
+SHUFFLE	COPY_MAP_DATA	174240000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4749199
+SHUFFLE	COMPRESS_BYTE_COUNT	1457548
+SHUFFLE	COPY_MAP_DATA	1627499000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4737899
+SHUFFLE	COMPRESS_BYTE_COUNT	1454147
+SHUFFLE	COPY_MAP_DATA	1099830000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5562977
+SHUFFLE	COMPRESS_BYTE_COUNT	1733922
+SHUFFLE	COPY_MAP_DATA	87280000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5548202
+SHUFFLE	COMPRESS_BYTE_COUNT	1728502
+SHUFFLE	COPY_MAP_DATA	85468000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4429881
+SHUFFLE	COMPRESS_BYTE_COUNT	1377715
+SHUFFLE	COPY_MAP_DATA	392637000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4488185
+SHUFFLE	COMPRESS_BYTE_COUNT	1395039
+SHUFFLE	COPY_MAP_DATA	87477000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4433554
+SHUFFLE	COMPRESS_BYTE_COUNT	1378459
+SHUFFLE	COPY_MAP_DATA	68366000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5590955
+SHUFFLE	COMPRESS_BYTE_COUNT	1725703
+SHUFFLE	COPY_MAP_DATA	99458000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4482439
+SHUFFLE	COMPRESS_BYTE_COUNT	1392591
+SHUFFLE	COPY_MAP_DATA	68657000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4246853
+SHUFFLE	COMPRESS_BYTE_COUNT	1320509
+SHUFFLE	COPY_MAP_DATA	118297000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1737279
+SHUFFLE	COMPRESS_BYTE_COUNT	537481
+SHUFFLE	COPY_MAP_DATA	12122700000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1748853
+SHUFFLE	COMPRESS_BYTE_COUNT	540975
+SHUFFLE	COPY_MAP_DATA	30028000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1746097
+SHUFFLE	COMPRESS_BYTE_COUNT	540033
+SHUFFLE	COPY_MAP_DATA	537885000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1672299
+SHUFFLE	COMPRESS_BYTE_COUNT	521918
+SHUFFLE	COPY_MAP_DATA	1054527000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1734867
+SHUFFLE	COMPRESS_BYTE_COUNT	536372
+SHUFFLE	COPY_MAP_DATA	28828000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5547471
+SHUFFLE	COMPRESS_BYTE_COUNT	1728885
+SHUFFLE	COPY_MAP_DATA	90598000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1746623
+SHUFFLE	COMPRESS_BYTE_COUNT	539675
+SHUFFLE	COPY_MAP_DATA	29117000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4458784
+SHUFFLE	COMPRESS_BYTE_COUNT	1385054
+SHUFFLE	COPY_MAP_DATA	71110000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1740040
+SHUFFLE	COMPRESS_BYTE_COUNT	538282
+SHUFFLE	COPY_MAP_DATA	55178000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1741452
+SHUFFLE	COMPRESS_BYTE_COUNT	538641
+SHUFFLE	COPY_MAP_DATA	28766000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4474535
+SHUFFLE	COMPRESS_BYTE_COUNT	1390671
+SHUFFLE	COPY_MAP_DATA	98412000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1663308
+SHUFFLE	COMPRESS_BYTE_COUNT	519306
+SHUFFLE	COPY_MAP_DATA	31893000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1662202
+SHUFFLE	COMPRESS_BYTE_COUNT	518256
+SHUFFLE	COPY_MAP_DATA	27527000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1743750
+SHUFFLE	COMPRESS_BYTE_COUNT	539068
+SHUFFLE	COPY_MAP_DATA	28680000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4695797
+SHUFFLE	COMPRESS_BYTE_COUNT	1441066
+SHUFFLE	COPY_MAP_DATA	930060000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1666366
+SHUFFLE	COMPRESS_BYTE_COUNT	519503
+SHUFFLE	COPY_MAP_DATA	28108000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1660808
+SHUFFLE	COMPRESS_BYTE_COUNT	518232
+SHUFFLE	COPY_MAP_DATA	26639000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1662016
+SHUFFLE	COMPRESS_BYTE_COUNT	518353
+SHUFFLE	COPY_MAP_DATA	363368000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4717307
+SHUFFLE	COMPRESS_BYTE_COUNT	1448002
+SHUFFLE	COPY_MAP_DATA	244980000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4498245
+SHUFFLE	COMPRESS_BYTE_COUNT	1398784
+SHUFFLE	COPY_MAP_DATA	77731000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4521504
+SHUFFLE	COMPRESS_BYTE_COUNT	1388421
+SHUFFLE	COPY_MAP_DATA	73610000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4760583
+SHUFFLE	COMPRESS_BYTE_COUNT	1461113
+SHUFFLE	COPY_MAP_DATA	91833000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4126848
+SHUFFLE	COMPRESS_BYTE_COUNT	1300147
+SHUFFLE	COPY_MAP_DATA	74700000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1656923
+SHUFFLE	COMPRESS_BYTE_COUNT	517216
+SHUFFLE	COPY_MAP_DATA	46687000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4465549
+SHUFFLE	COMPRESS_BYTE_COUNT	1388594
+SHUFFLE	COPY_MAP_DATA	69740000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4505323
+SHUFFLE	COMPRESS_BYTE_COUNT	1400158
+SHUFFLE	COPY_MAP_DATA	70942000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1672845
+SHUFFLE	COMPRESS_BYTE_COUNT	521913
+SHUFFLE	COPY_MAP_DATA	36902000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1666382
+SHUFFLE	COMPRESS_BYTE_COUNT	520254
+SHUFFLE	COPY_MAP_DATA	27404000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1738429
+SHUFFLE	COMPRESS_BYTE_COUNT	537866
+SHUFFLE	COPY_MAP_DATA	27864000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4412272
+SHUFFLE	COMPRESS_BYTE_COUNT	1372655
+SHUFFLE	COPY_MAP_DATA	67616000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4443694
+SHUFFLE	COMPRESS_BYTE_COUNT	1380698
+SHUFFLE	COPY_MAP_DATA	144305000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1667499
+SHUFFLE	COMPRESS_BYTE_COUNT	520891
+SHUFFLE	COPY_MAP_DATA	100166000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4713816
+SHUFFLE	COMPRESS_BYTE_COUNT	1447685
+SHUFFLE	COPY_MAP_DATA	93913000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1734136
+SHUFFLE	COMPRESS_BYTE_COUNT	535928
+SHUFFLE	COPY_MAP_DATA	29622000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1738396
+SHUFFLE	COMPRESS_BYTE_COUNT	537696
+SHUFFLE	COPY_MAP_DATA	665302000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1734384
+SHUFFLE	COMPRESS_BYTE_COUNT	536250
+SHUFFLE	COPY_MAP_DATA	26373000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1579890
+SHUFFLE	COMPRESS_BYTE_COUNT	498446
+SHUFFLE	COPY_MAP_DATA	41696000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1669911
+SHUFFLE	COMPRESS_BYTE_COUNT	521600
+SHUFFLE	COPY_MAP_DATA	36596000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1693258
+SHUFFLE	COMPRESS_BYTE_COUNT	523441
+SHUFFLE	COPY_MAP_DATA	27047000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1662312
+SHUFFLE	COMPRESS_BYTE_COUNT	518758
+SHUFFLE	COPY_MAP_DATA	26435000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1615209
+SHUFFLE	COMPRESS_BYTE_COUNT	504190
+SHUFFLE	COPY_MAP_DATA	36167000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1675308
+SHUFFLE	COMPRESS_BYTE_COUNT	522653
+SHUFFLE	COPY_MAP_DATA	26160000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1660443
+SHUFFLE	COMPRESS_BYTE_COUNT	517937
+SHUFFLE	COPY_MAP_DATA	26974000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4450635
+SHUFFLE	COMPRESS_BYTE_COUNT	1384013
+SHUFFLE	COPY_MAP_DATA	444176000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	438580318000
+MERGE	READ_WRITE	433216596000
+MERGE	READ_WRITE_COUNT	8
+MERGE	COMBINE	0
+MERGE	WRITE	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	7294576000
+SORT	READ_WRITE	7202396000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	81323304
+REDUCE	SETUP	368000
+REDUCE	SETUP_MEM	81323304
+REDUCE	CLEANUP	35000
+REDUCE	CLEANUP_MEM	109031648
+REDUCE	TOTAL_RUN	410697193000
+REDUCE	READ	6950343000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	395248118000
+REDUCE	WRITE	222851905000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	55908037
+REDUCE	VALUE_BYTE_COUNT	1648526680
+REDUCE	REDUCE_MEM	109033696
+REDUCE	WRITE	56105000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	1079629015982
@@ -0,0 +1,989 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5502109
+SHUFFLE	COMPRESS_BYTE_COUNT	1710471
+SHUFFLE	COPY_MAP_DATA	1097793000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5479583
+SHUFFLE	COMPRESS_BYTE_COUNT	1704319
+SHUFFLE	COPY_MAP_DATA	744852000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5522697
+SHUFFLE	COMPRESS_BYTE_COUNT	1716264
+SHUFFLE	COPY_MAP_DATA	138281000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5540509
+SHUFFLE	COMPRESS_BYTE_COUNT	1722379
+SHUFFLE	COPY_MAP_DATA	261974000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5450798
+SHUFFLE	COMPRESS_BYTE_COUNT	1694535
+SHUFFLE	COPY_MAP_DATA	478215000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5521440
+SHUFFLE	COMPRESS_BYTE_COUNT	1738233
+SHUFFLE	COPY_MAP_DATA	116723000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5500248
+SHUFFLE	COMPRESS_BYTE_COUNT	1732444
+SHUFFLE	COPY_MAP_DATA	119098000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5510292
+SHUFFLE	COMPRESS_BYTE_COUNT	1712049
+SHUFFLE	COPY_MAP_DATA	1148714000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5520916
+SHUFFLE	COMPRESS_BYTE_COUNT	1715875
+SHUFFLE	COPY_MAP_DATA	626524000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5511675
+SHUFFLE	COMPRESS_BYTE_COUNT	1713431
+SHUFFLE	COPY_MAP_DATA	478982000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5545177
+SHUFFLE	COMPRESS_BYTE_COUNT	1702481
+SHUFFLE	COPY_MAP_DATA	129433000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5481368
+SHUFFLE	COMPRESS_BYTE_COUNT	1703355
+SHUFFLE	COPY_MAP_DATA	508473000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5497397
+SHUFFLE	COMPRESS_BYTE_COUNT	1708601
+SHUFFLE	COPY_MAP_DATA	182889000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5513142
+SHUFFLE	COMPRESS_BYTE_COUNT	1714136
+SHUFFLE	COPY_MAP_DATA	353874000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5499956
+SHUFFLE	COMPRESS_BYTE_COUNT	1709952
+SHUFFLE	COPY_MAP_DATA	409030000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5505165
+SHUFFLE	COMPRESS_BYTE_COUNT	1711979
+SHUFFLE	COPY_MAP_DATA	416711000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5516028
+SHUFFLE	COMPRESS_BYTE_COUNT	1713536
+SHUFFLE	COPY_MAP_DATA	190950000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5507307
+SHUFFLE	COMPRESS_BYTE_COUNT	1711365
+SHUFFLE	COPY_MAP_DATA	96548000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5501976
+SHUFFLE	COMPRESS_BYTE_COUNT	1709560
+SHUFFLE	COPY_MAP_DATA	140969000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5425803
+SHUFFLE	COMPRESS_BYTE_COUNT	1708276
+SHUFFLE	COPY_MAP_DATA	2301749000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5555212
+SHUFFLE	COMPRESS_BYTE_COUNT	1726063
+SHUFFLE	COPY_MAP_DATA	88523000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5527706
+SHUFFLE	COMPRESS_BYTE_COUNT	1718629
+SHUFFLE	COPY_MAP_DATA	86771000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5605325
+SHUFFLE	COMPRESS_BYTE_COUNT	1741407
+SHUFFLE	COPY_MAP_DATA	169838000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5508767
+SHUFFLE	COMPRESS_BYTE_COUNT	1711316
+SHUFFLE	COPY_MAP_DATA	184439000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5459148
+SHUFFLE	COMPRESS_BYTE_COUNT	1719108
+SHUFFLE	COPY_MAP_DATA	109979000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5499982
+SHUFFLE	COMPRESS_BYTE_COUNT	1708219
+SHUFFLE	COPY_MAP_DATA	138860000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5519339
+SHUFFLE	COMPRESS_BYTE_COUNT	1715733
+SHUFFLE	COPY_MAP_DATA	5932471000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5518962
+SHUFFLE	COMPRESS_BYTE_COUNT	1716369
+SHUFFLE	COPY_MAP_DATA	86316000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5499500
+SHUFFLE	COMPRESS_BYTE_COUNT	1709814
+SHUFFLE	COPY_MAP_DATA	214489000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5396877
+SHUFFLE	COMPRESS_BYTE_COUNT	1726615
+SHUFFLE	COPY_MAP_DATA	85785000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5536779
+SHUFFLE	COMPRESS_BYTE_COUNT	1721001
+SHUFFLE	COPY_MAP_DATA	88295000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5498538
+SHUFFLE	COMPRESS_BYTE_COUNT	1688112
+SHUFFLE	COPY_MAP_DATA	1406742000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5512726
+SHUFFLE	COMPRESS_BYTE_COUNT	1713362
+SHUFFLE	COPY_MAP_DATA	105856000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5563878
+SHUFFLE	COMPRESS_BYTE_COUNT	1708016
+SHUFFLE	COPY_MAP_DATA	86715000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5532352
+SHUFFLE	COMPRESS_BYTE_COUNT	1719821
+SHUFFLE	COPY_MAP_DATA	159085000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5580673
+SHUFFLE	COMPRESS_BYTE_COUNT	1713239
+SHUFFLE	COPY_MAP_DATA	97226000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5525949
+SHUFFLE	COMPRESS_BYTE_COUNT	1717122
+SHUFFLE	COPY_MAP_DATA	737644000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5518507
+SHUFFLE	COMPRESS_BYTE_COUNT	1713857
+SHUFFLE	COPY_MAP_DATA	2468423000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5497737
+SHUFFLE	COMPRESS_BYTE_COUNT	1731438
+SHUFFLE	COPY_MAP_DATA	375115000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5548912
+SHUFFLE	COMPRESS_BYTE_COUNT	1701889
+SHUFFLE	COPY_MAP_DATA	902346000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5581572
+SHUFFLE	COMPRESS_BYTE_COUNT	1734298
+SHUFFLE	COPY_MAP_DATA	460059000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5503326
+SHUFFLE	COMPRESS_BYTE_COUNT	1711626
+SHUFFLE	COPY_MAP_DATA	2990456000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5459749
+SHUFFLE	COMPRESS_BYTE_COUNT	1696973
+SHUFFLE	COPY_MAP_DATA	140836000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5487081
+SHUFFLE	COMPRESS_BYTE_COUNT	1704930
+SHUFFLE	COPY_MAP_DATA	86897000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5550167
+SHUFFLE	COMPRESS_BYTE_COUNT	1723389
+SHUFFLE	COPY_MAP_DATA	9074416759
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5498550
+SHUFFLE	COMPRESS_BYTE_COUNT	1687547
+SHUFFLE	COPY_MAP_DATA	140977000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5546010
+SHUFFLE	COMPRESS_BYTE_COUNT	1723062
+SHUFFLE	COPY_MAP_DATA	136305000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5567803
+SHUFFLE	COMPRESS_BYTE_COUNT	1708508
+SHUFFLE	COPY_MAP_DATA	207769000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5589517
+SHUFFLE	COMPRESS_BYTE_COUNT	1715399
+SHUFFLE	COPY_MAP_DATA	99098000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5525116
+SHUFFLE	COMPRESS_BYTE_COUNT	1717479
+SHUFFLE	COPY_MAP_DATA	2725259000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5484127
+SHUFFLE	COMPRESS_BYTE_COUNT	1683955
+SHUFFLE	COPY_MAP_DATA	106297000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5586928
+SHUFFLE	COMPRESS_BYTE_COUNT	1714953
+SHUFFLE	COPY_MAP_DATA	1730199000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5518567
+SHUFFLE	COMPRESS_BYTE_COUNT	1716459
+SHUFFLE	COPY_MAP_DATA	2789973000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5553843
+SHUFFLE	COMPRESS_BYTE_COUNT	1704217
+SHUFFLE	COPY_MAP_DATA	579962000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5536071
+SHUFFLE	COMPRESS_BYTE_COUNT	1720059
+SHUFFLE	COPY_MAP_DATA	349427000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5566315
+SHUFFLE	COMPRESS_BYTE_COUNT	1726984
+SHUFFLE	COPY_MAP_DATA	249289000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5498384
+SHUFFLE	COMPRESS_BYTE_COUNT	1709011
+SHUFFLE	COPY_MAP_DATA	163398000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5573752
+SHUFFLE	COMPRESS_BYTE_COUNT	1709897
+SHUFFLE	COPY_MAP_DATA	87511000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5544778
+SHUFFLE	COMPRESS_BYTE_COUNT	1701511
+SHUFFLE	COPY_MAP_DATA	102696000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5521744
+SHUFFLE	COMPRESS_BYTE_COUNT	1694380
+SHUFFLE	COPY_MAP_DATA	221660000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5538182
+SHUFFLE	COMPRESS_BYTE_COUNT	1700023
+SHUFFLE	COPY_MAP_DATA	83073000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5540870
+SHUFFLE	COMPRESS_BYTE_COUNT	1700525
+SHUFFLE	COPY_MAP_DATA	4048596000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5605878
+SHUFFLE	COMPRESS_BYTE_COUNT	1720211
+SHUFFLE	COPY_MAP_DATA	4514308000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5600201
+SHUFFLE	COMPRESS_BYTE_COUNT	1719270
+SHUFFLE	COPY_MAP_DATA	4170781000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5552637
+SHUFFLE	COMPRESS_BYTE_COUNT	1703894
+SHUFFLE	COPY_MAP_DATA	339717000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5522732
+SHUFFLE	COMPRESS_BYTE_COUNT	1694181
+SHUFFLE	COPY_MAP_DATA	91147000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5519664
+SHUFFLE	COMPRESS_BYTE_COUNT	1694225
+SHUFFLE	COPY_MAP_DATA	852386000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5481127
+SHUFFLE	COMPRESS_BYTE_COUNT	1722468
+SHUFFLE	COPY_MAP_DATA	99959000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5412106
+SHUFFLE	COMPRESS_BYTE_COUNT	1704310
+SHUFFLE	COPY_MAP_DATA	98058000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5525203
+SHUFFLE	COMPRESS_BYTE_COUNT	1696544
+SHUFFLE	COPY_MAP_DATA	345510000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5596061
+SHUFFLE	COMPRESS_BYTE_COUNT	1718204
+SHUFFLE	COPY_MAP_DATA	916132000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5514606
+SHUFFLE	COMPRESS_BYTE_COUNT	1692854
+SHUFFLE	COPY_MAP_DATA	1362309000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5527355
+SHUFFLE	COMPRESS_BYTE_COUNT	1697295
+SHUFFLE	COPY_MAP_DATA	100799000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5606092
+SHUFFLE	COMPRESS_BYTE_COUNT	1720370
+SHUFFLE	COPY_MAP_DATA	127030000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5551083
+SHUFFLE	COMPRESS_BYTE_COUNT	1703381
+SHUFFLE	COPY_MAP_DATA	98595000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5486392
+SHUFFLE	COMPRESS_BYTE_COUNT	1684548
+SHUFFLE	COPY_MAP_DATA	1298262000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5538000
+SHUFFLE	COMPRESS_BYTE_COUNT	1699735
+SHUFFLE	COPY_MAP_DATA	198721000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5606514
+SHUFFLE	COMPRESS_BYTE_COUNT	1720732
+SHUFFLE	COPY_MAP_DATA	235587000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5498589
+SHUFFLE	COMPRESS_BYTE_COUNT	1688640
+SHUFFLE	COPY_MAP_DATA	2229253000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5555231
+SHUFFLE	COMPRESS_BYTE_COUNT	1705258
+SHUFFLE	COPY_MAP_DATA	161400000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5562138
+SHUFFLE	COMPRESS_BYTE_COUNT	1706478
+SHUFFLE	COPY_MAP_DATA	99565000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5564876
+SHUFFLE	COMPRESS_BYTE_COUNT	1708633
+SHUFFLE	COPY_MAP_DATA	122725000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5479854
+SHUFFLE	COMPRESS_BYTE_COUNT	1724829
+SHUFFLE	COPY_MAP_DATA	636534000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5563356
+SHUFFLE	COMPRESS_BYTE_COUNT	1706872
+SHUFFLE	COPY_MAP_DATA	180008000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5585179
+SHUFFLE	COMPRESS_BYTE_COUNT	1714416
+SHUFFLE	COPY_MAP_DATA	100291000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5592138
+SHUFFLE	COMPRESS_BYTE_COUNT	1716510
+SHUFFLE	COPY_MAP_DATA	1066740000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5583408
+SHUFFLE	COMPRESS_BYTE_COUNT	1714115
+SHUFFLE	COPY_MAP_DATA	347909000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5536203
+SHUFFLE	COMPRESS_BYTE_COUNT	1700164
+SHUFFLE	COPY_MAP_DATA	12585270000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5576338
+SHUFFLE	COMPRESS_BYTE_COUNT	1711345
+SHUFFLE	COPY_MAP_DATA	218702000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5592776
+SHUFFLE	COMPRESS_BYTE_COUNT	1714769
+SHUFFLE	COPY_MAP_DATA	121430000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5536228
+SHUFFLE	COMPRESS_BYTE_COUNT	1698352
+SHUFFLE	COPY_MAP_DATA	797601000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5523043
+SHUFFLE	COMPRESS_BYTE_COUNT	1695147
+SHUFFLE	COPY_MAP_DATA	134938000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5553836
+SHUFFLE	COMPRESS_BYTE_COUNT	1705412
+SHUFFLE	COPY_MAP_DATA	234307000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5489046
+SHUFFLE	COMPRESS_BYTE_COUNT	1685613
+SHUFFLE	COPY_MAP_DATA	82858000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5519338
+SHUFFLE	COMPRESS_BYTE_COUNT	1694408
+SHUFFLE	COPY_MAP_DATA	505757000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5555698
+SHUFFLE	COMPRESS_BYTE_COUNT	1706193
+SHUFFLE	COPY_MAP_DATA	209129000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5483524
+SHUFFLE	COMPRESS_BYTE_COUNT	1703935
+SHUFFLE	COPY_MAP_DATA	542492000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5564646
+SHUFFLE	COMPRESS_BYTE_COUNT	1707776
+SHUFFLE	COPY_MAP_DATA	101814000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5516599
+SHUFFLE	COMPRESS_BYTE_COUNT	1692573
+SHUFFLE	COPY_MAP_DATA	144197000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5504237
+SHUFFLE	COMPRESS_BYTE_COUNT	1711675
+SHUFFLE	COPY_MAP_DATA	129057000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5566349
+SHUFFLE	COMPRESS_BYTE_COUNT	1708475
+SHUFFLE	COPY_MAP_DATA	101280000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5535409
+SHUFFLE	COMPRESS_BYTE_COUNT	1699592
+SHUFFLE	COPY_MAP_DATA	1812845000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5532352
+SHUFFLE	COMPRESS_BYTE_COUNT	1697791
+SHUFFLE	COPY_MAP_DATA	210654000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5495328
+SHUFFLE	COMPRESS_BYTE_COUNT	1686801
+SHUFFLE	COPY_MAP_DATA	345700000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5567339
+SHUFFLE	COMPRESS_BYTE_COUNT	1708427
+SHUFFLE	COPY_MAP_DATA	192947000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5546559
+SHUFFLE	COMPRESS_BYTE_COUNT	1701754
+SHUFFLE	COPY_MAP_DATA	4435609000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5579736
+SHUFFLE	COMPRESS_BYTE_COUNT	1733966
+SHUFFLE	COPY_MAP_DATA	406322000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5470824
+SHUFFLE	COMPRESS_BYTE_COUNT	1679582
+SHUFFLE	COPY_MAP_DATA	168070000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5519859
+SHUFFLE	COMPRESS_BYTE_COUNT	1695481
+SHUFFLE	COPY_MAP_DATA	176251000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5508697
+SHUFFLE	COMPRESS_BYTE_COUNT	1691226
+SHUFFLE	COPY_MAP_DATA	105408000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5495446
+SHUFFLE	COMPRESS_BYTE_COUNT	1708149
+SHUFFLE	COPY_MAP_DATA	305150000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5492006
+SHUFFLE	COMPRESS_BYTE_COUNT	1706628
+SHUFFLE	COPY_MAP_DATA	132638000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5544901
+SHUFFLE	COMPRESS_BYTE_COUNT	1702159
+SHUFFLE	COPY_MAP_DATA	85324000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5460315
+SHUFFLE	COMPRESS_BYTE_COUNT	1697136
+SHUFFLE	COPY_MAP_DATA	96379000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5515183
+SHUFFLE	COMPRESS_BYTE_COUNT	1694088
+SHUFFLE	COPY_MAP_DATA	338637000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5486977
+SHUFFLE	COMPRESS_BYTE_COUNT	1706089
+SHUFFLE	COPY_MAP_DATA	87692000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5590014
+SHUFFLE	COMPRESS_BYTE_COUNT	1714921
+SHUFFLE	COPY_MAP_DATA	84694000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5522585
+SHUFFLE	COMPRESS_BYTE_COUNT	1694104
+SHUFFLE	COPY_MAP_DATA	84820000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5580992
+SHUFFLE	COMPRESS_BYTE_COUNT	1712936
+SHUFFLE	COPY_MAP_DATA	202799000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5566316
+SHUFFLE	COMPRESS_BYTE_COUNT	1730060
+SHUFFLE	COPY_MAP_DATA	951135000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5479937
+SHUFFLE	COMPRESS_BYTE_COUNT	1704420
+SHUFFLE	COPY_MAP_DATA	97434000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5495260
+SHUFFLE	COMPRESS_BYTE_COUNT	1708530
+SHUFFLE	COPY_MAP_DATA	572854000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5486798
+SHUFFLE	COMPRESS_BYTE_COUNT	1704088
+SHUFFLE	COPY_MAP_DATA	101124000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5517147
+SHUFFLE	COMPRESS_BYTE_COUNT	1693097
+SHUFFLE	COPY_MAP_DATA	129725000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5586601
+SHUFFLE	COMPRESS_BYTE_COUNT	1714069
+SHUFFLE	COPY_MAP_DATA	612765000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5420206
+SHUFFLE	COMPRESS_BYTE_COUNT	1684823
+SHUFFLE	COPY_MAP_DATA	1867786000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5494910
+SHUFFLE	COMPRESS_BYTE_COUNT	1708354
+SHUFFLE	COPY_MAP_DATA	101732000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5497103
+SHUFFLE	COMPRESS_BYTE_COUNT	1707117
+SHUFFLE	COPY_MAP_DATA	81745000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5479158
+SHUFFLE	COMPRESS_BYTE_COUNT	1702289
+SHUFFLE	COPY_MAP_DATA	110814000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5517511
+SHUFFLE	COMPRESS_BYTE_COUNT	1714138
+SHUFFLE	COPY_MAP_DATA	408726000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5525995
+SHUFFLE	COMPRESS_BYTE_COUNT	1717696
+SHUFFLE	COPY_MAP_DATA	530930000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5542249
+SHUFFLE	COMPRESS_BYTE_COUNT	1701723
+SHUFFLE	COPY_MAP_DATA	98048000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5548076
+SHUFFLE	COMPRESS_BYTE_COUNT	1725169
+SHUFFLE	COPY_MAP_DATA	2215720000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5466397
+SHUFFLE	COMPRESS_BYTE_COUNT	1699648
+SHUFFLE	COPY_MAP_DATA	1158421000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5527727
+SHUFFLE	COMPRESS_BYTE_COUNT	1717433
+SHUFFLE	COPY_MAP_DATA	81111000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5545877
+SHUFFLE	COMPRESS_BYTE_COUNT	1727499
+SHUFFLE	COPY_MAP_DATA	101275000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5468174
+SHUFFLE	COMPRESS_BYTE_COUNT	1700504
+SHUFFLE	COPY_MAP_DATA	89468000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5488772
+SHUFFLE	COMPRESS_BYTE_COUNT	1706066
+SHUFFLE	COPY_MAP_DATA	87901000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5537015
+SHUFFLE	COMPRESS_BYTE_COUNT	1720256
+SHUFFLE	COPY_MAP_DATA	5762285000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5586280
+SHUFFLE	COMPRESS_BYTE_COUNT	1735124
+SHUFFLE	COPY_MAP_DATA	3479457000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5482721
+SHUFFLE	COMPRESS_BYTE_COUNT	1704286
+SHUFFLE	COPY_MAP_DATA	91399000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5502561
+SHUFFLE	COMPRESS_BYTE_COUNT	1710167
+SHUFFLE	COPY_MAP_DATA	93463000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5470068
+SHUFFLE	COMPRESS_BYTE_COUNT	1700707
+SHUFFLE	COPY_MAP_DATA	1202804000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5560229
+SHUFFLE	COMPRESS_BYTE_COUNT	1732351
+SHUFFLE	COPY_MAP_DATA	100545000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5530402
+SHUFFLE	COMPRESS_BYTE_COUNT	1718666
+SHUFFLE	COPY_MAP_DATA	109953000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5452245
+SHUFFLE	COMPRESS_BYTE_COUNT	1694812
+SHUFFLE	COPY_MAP_DATA	84605000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5518929
+SHUFFLE	COMPRESS_BYTE_COUNT	1715452
+SHUFFLE	COPY_MAP_DATA	102500000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5475335
+SHUFFLE	COMPRESS_BYTE_COUNT	1703403
+SHUFFLE	COPY_MAP_DATA	82743000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5506915
+SHUFFLE	COMPRESS_BYTE_COUNT	1710504
+SHUFFLE	COPY_MAP_DATA	256206000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5550795
+SHUFFLE	COMPRESS_BYTE_COUNT	1729381
+SHUFFLE	COPY_MAP_DATA	89417000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5547739
+SHUFFLE	COMPRESS_BYTE_COUNT	1728688
+SHUFFLE	COPY_MAP_DATA	304419000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5457438
+SHUFFLE	COMPRESS_BYTE_COUNT	1696922
+SHUFFLE	COPY_MAP_DATA	492541000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5547603
+SHUFFLE	COMPRESS_BYTE_COUNT	1729220
+SHUFFLE	COPY_MAP_DATA	885984000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5524489
+SHUFFLE	COMPRESS_BYTE_COUNT	1738159
+SHUFFLE	COPY_MAP_DATA	421812000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5491181
+SHUFFLE	COMPRESS_BYTE_COUNT	1706585
+SHUFFLE	COPY_MAP_DATA	694597000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5509605
+SHUFFLE	COMPRESS_BYTE_COUNT	1712251
+SHUFFLE	COPY_MAP_DATA	179330000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5560309
+SHUFFLE	COMPRESS_BYTE_COUNT	1729355
+SHUFFLE	COPY_MAP_DATA	3138911000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5562842
+SHUFFLE	COMPRESS_BYTE_COUNT	1732854
+SHUFFLE	COPY_MAP_DATA	90143000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5500362
+SHUFFLE	COMPRESS_BYTE_COUNT	1744453
+SHUFFLE	COPY_MAP_DATA	107896000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5608408
+SHUFFLE	COMPRESS_BYTE_COUNT	1730312
+SHUFFLE	COPY_MAP_DATA	90566000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5582335
+SHUFFLE	COMPRESS_BYTE_COUNT	1723183
+SHUFFLE	COPY_MAP_DATA	205445000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4714490
+SHUFFLE	COMPRESS_BYTE_COUNT	1446576
+SHUFFLE	COPY_MAP_DATA	84636000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5599564
+SHUFFLE	COMPRESS_BYTE_COUNT	1728926
+SHUFFLE	COPY_MAP_DATA	139876000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4752363
+SHUFFLE	COMPRESS_BYTE_COUNT	1459394
+SHUFFLE	COPY_MAP_DATA	116536000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4522005
+SHUFFLE	COMPRESS_BYTE_COUNT	1406163
+SHUFFLE	COPY_MAP_DATA	73063000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5602183
+SHUFFLE	COMPRESS_BYTE_COUNT	1728756
+SHUFFLE	COPY_MAP_DATA	247158000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4444255
+SHUFFLE	COMPRESS_BYTE_COUNT	1382399
+SHUFFLE	COPY_MAP_DATA	71255000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5599049
+SHUFFLE	COMPRESS_BYTE_COUNT	1728499
+SHUFFLE	COPY_MAP_DATA	87606000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5588924
+SHUFFLE	COMPRESS_BYTE_COUNT	1724476
+SHUFFLE	COPY_MAP_DATA	93956000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4770603
+SHUFFLE	COMPRESS_BYTE_COUNT	1463861
+SHUFFLE	COPY_MAP_DATA	1865106000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4727990
+SHUFFLE	COMPRESS_BYTE_COUNT	1451147
+SHUFFLE	COPY_MAP_DATA	113863000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5580493
+SHUFFLE	COMPRESS_BYTE_COUNT	1722990
+SHUFFLE	COPY_MAP_DATA	129483000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5582309
+SHUFFLE	COMPRESS_BYTE_COUNT	1722902
+SHUFFLE	COPY_MAP_DATA	167842000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5596254
+SHUFFLE	COMPRESS_BYTE_COUNT	1727123
+SHUFFLE	COPY_MAP_DATA	86582000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5586529
+SHUFFLE	COMPRESS_BYTE_COUNT	1725972
+SHUFFLE	COPY_MAP_DATA	246223000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4683257
+SHUFFLE	COMPRESS_BYTE_COUNT	1438376
+SHUFFLE	COPY_MAP_DATA	158322000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5594665
+SHUFFLE	COMPRESS_BYTE_COUNT	1727184
+SHUFFLE	COPY_MAP_DATA	88561000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5551452
+SHUFFLE	COMPRESS_BYTE_COUNT	1729176
+SHUFFLE	COPY_MAP_DATA	174128000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4774504
+SHUFFLE	COMPRESS_BYTE_COUNT	1466458
+SHUFFLE	COPY_MAP_DATA	75857000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5577174
+SHUFFLE	COMPRESS_BYTE_COUNT	1721367
+SHUFFLE	COPY_MAP_DATA	173615000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4687117
+SHUFFLE	COMPRESS_BYTE_COUNT	1438507
+SHUFFLE	COPY_MAP_DATA	85973000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5545108
+SHUFFLE	COMPRESS_BYTE_COUNT	1727717
+SHUFFLE	COPY_MAP_DATA	7333489000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5557672
+SHUFFLE	COMPRESS_BYTE_COUNT	1730745
+SHUFFLE	COPY_MAP_DATA	1321076000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5566479
+SHUFFLE	COMPRESS_BYTE_COUNT	1734385
+SHUFFLE	COPY_MAP_DATA	93763000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5552759
+SHUFFLE	COMPRESS_BYTE_COUNT	1729190
+SHUFFLE	COPY_MAP_DATA	94078000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1738083
+SHUFFLE	COMPRESS_BYTE_COUNT	537003
+SHUFFLE	COPY_MAP_DATA	38064000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4771769
+SHUFFLE	COMPRESS_BYTE_COUNT	1464935
+SHUFFLE	COPY_MAP_DATA	70398000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4742745
+SHUFFLE	COMPRESS_BYTE_COUNT	1455493
+SHUFFLE	COPY_MAP_DATA	79431000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5559745
+SHUFFLE	COMPRESS_BYTE_COUNT	1733013
+SHUFFLE	COPY_MAP_DATA	117195000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4449227
+SHUFFLE	COMPRESS_BYTE_COUNT	1383121
+SHUFFLE	COPY_MAP_DATA	67780000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4452875
+SHUFFLE	COMPRESS_BYTE_COUNT	1384316
+SHUFFLE	COPY_MAP_DATA	141962000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5542267
+SHUFFLE	COMPRESS_BYTE_COUNT	1726447
+SHUFFLE	COPY_MAP_DATA	111031000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4456094
+SHUFFLE	COMPRESS_BYTE_COUNT	1385512
+SHUFFLE	COPY_MAP_DATA	110560000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5597438
+SHUFFLE	COMPRESS_BYTE_COUNT	1727469
+SHUFFLE	COPY_MAP_DATA	96860000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4449869
+SHUFFLE	COMPRESS_BYTE_COUNT	1383757
+SHUFFLE	COPY_MAP_DATA	69641000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4270947
+SHUFFLE	COMPRESS_BYTE_COUNT	1328422
+SHUFFLE	COPY_MAP_DATA	67641000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1734639
+SHUFFLE	COMPRESS_BYTE_COUNT	536691
+SHUFFLE	COPY_MAP_DATA	12291982000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1743820
+SHUFFLE	COMPRESS_BYTE_COUNT	539587
+SHUFFLE	COPY_MAP_DATA	40406000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1745487
+SHUFFLE	COMPRESS_BYTE_COUNT	540001
+SHUFFLE	COPY_MAP_DATA	186664000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1666340
+SHUFFLE	COMPRESS_BYTE_COUNT	520857
+SHUFFLE	COPY_MAP_DATA	36410000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1732613
+SHUFFLE	COMPRESS_BYTE_COUNT	535767
+SHUFFLE	COPY_MAP_DATA	37491000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1738855
+SHUFFLE	COMPRESS_BYTE_COUNT	537713
+SHUFFLE	COPY_MAP_DATA	909282000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1738439
+SHUFFLE	COMPRESS_BYTE_COUNT	537460
+SHUFFLE	COPY_MAP_DATA	36032000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5552090
+SHUFFLE	COMPRESS_BYTE_COUNT	1729611
+SHUFFLE	COPY_MAP_DATA	106796000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4409077
+SHUFFLE	COMPRESS_BYTE_COUNT	1370689
+SHUFFLE	COPY_MAP_DATA	99149000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1749820
+SHUFFLE	COMPRESS_BYTE_COUNT	540637
+SHUFFLE	COPY_MAP_DATA	30846000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4674407
+SHUFFLE	COMPRESS_BYTE_COUNT	1435948
+SHUFFLE	COPY_MAP_DATA	119522000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1665163
+SHUFFLE	COMPRESS_BYTE_COUNT	519440
+SHUFFLE	COPY_MAP_DATA	32143000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4417467
+SHUFFLE	COMPRESS_BYTE_COUNT	1374136
+SHUFFLE	COPY_MAP_DATA	221981000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1747669
+SHUFFLE	COMPRESS_BYTE_COUNT	539769
+SHUFFLE	COPY_MAP_DATA	569863000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1662107
+SHUFFLE	COMPRESS_BYTE_COUNT	518575
+SHUFFLE	COPY_MAP_DATA	29390000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1656151
+SHUFFLE	COMPRESS_BYTE_COUNT	517010
+SHUFFLE	COPY_MAP_DATA	28369000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1668356
+SHUFFLE	COMPRESS_BYTE_COUNT	520246
+SHUFFLE	COPY_MAP_DATA	30299000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4689869
+SHUFFLE	COMPRESS_BYTE_COUNT	1440602
+SHUFFLE	COPY_MAP_DATA	74804000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4591825
+SHUFFLE	COMPRESS_BYTE_COUNT	1409757
+SHUFFLE	COPY_MAP_DATA	104219000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1664888
+SHUFFLE	COMPRESS_BYTE_COUNT	518887
+SHUFFLE	COPY_MAP_DATA	26299000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4486712
+SHUFFLE	COMPRESS_BYTE_COUNT	1393962
+SHUFFLE	COPY_MAP_DATA	66950000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4710813
+SHUFFLE	COMPRESS_BYTE_COUNT	1447230
+SHUFFLE	COPY_MAP_DATA	78979000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4431883
+SHUFFLE	COMPRESS_BYTE_COUNT	1377405
+SHUFFLE	COPY_MAP_DATA	78699000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1657368
+SHUFFLE	COMPRESS_BYTE_COUNT	516999
+SHUFFLE	COPY_MAP_DATA	87435000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1734580
+SHUFFLE	COMPRESS_BYTE_COUNT	536144
+SHUFFLE	COPY_MAP_DATA	28135000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4461961
+SHUFFLE	COMPRESS_BYTE_COUNT	1387055
+SHUFFLE	COPY_MAP_DATA	96552000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1742620
+SHUFFLE	COMPRESS_BYTE_COUNT	538809
+SHUFFLE	COPY_MAP_DATA	56112000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4729888
+SHUFFLE	COMPRESS_BYTE_COUNT	1451905
+SHUFFLE	COPY_MAP_DATA	77745000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1669860
+SHUFFLE	COMPRESS_BYTE_COUNT	521245
+SHUFFLE	COPY_MAP_DATA	28797000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1672499
+SHUFFLE	COMPRESS_BYTE_COUNT	521695
+SHUFFLE	COPY_MAP_DATA	59511000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4187902
+SHUFFLE	COMPRESS_BYTE_COUNT	1318758
+SHUFFLE	COPY_MAP_DATA	485547000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4414084
+SHUFFLE	COMPRESS_BYTE_COUNT	1372008
+SHUFFLE	COPY_MAP_DATA	83370000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4400973
+SHUFFLE	COMPRESS_BYTE_COUNT	1368655
+SHUFFLE	COPY_MAP_DATA	756874000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1732428
+SHUFFLE	COMPRESS_BYTE_COUNT	535790
+SHUFFLE	COPY_MAP_DATA	26171000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1669627
+SHUFFLE	COMPRESS_BYTE_COUNT	520306
+SHUFFLE	COPY_MAP_DATA	39684000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1737692
+SHUFFLE	COMPRESS_BYTE_COUNT	537468
+SHUFFLE	COPY_MAP_DATA	28001000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1578694
+SHUFFLE	COMPRESS_BYTE_COUNT	498686
+SHUFFLE	COPY_MAP_DATA	97283000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1662996
+SHUFFLE	COMPRESS_BYTE_COUNT	518705
+SHUFFLE	COPY_MAP_DATA	26477000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1673568
+SHUFFLE	COMPRESS_BYTE_COUNT	522078
+SHUFFLE	COPY_MAP_DATA	325977000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1687458
+SHUFFLE	COMPRESS_BYTE_COUNT	522591
+SHUFFLE	COPY_MAP_DATA	26491000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1618683
+SHUFFLE	COMPRESS_BYTE_COUNT	504995
+SHUFFLE	COPY_MAP_DATA	34249000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1671211
+SHUFFLE	COMPRESS_BYTE_COUNT	521577
+SHUFFLE	COPY_MAP_DATA	25736000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1664880
+SHUFFLE	COMPRESS_BYTE_COUNT	519246
+SHUFFLE	COPY_MAP_DATA	26064000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4415061
+SHUFFLE	COMPRESS_BYTE_COUNT	1372534
+SHUFFLE	COPY_MAP_DATA	65821000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	448886289000
+MERGE	READ_WRITE	434908837000
+MERGE	READ_WRITE_COUNT	8
+MERGE	COMBINE	0
+MERGE	WRITE	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	11729823000
+SORT	READ_WRITE	11635470000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	216491152
+REDUCE	SETUP	472000
+REDUCE	SETUP_MEM	216491152
+REDUCE	CLEANUP	34000
+REDUCE	CLEANUP_MEM	173977912
+REDUCE	TOTAL_RUN	463285019853
+REDUCE	READ	7215484000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	447426375853
+REDUCE	WRITE	238675457853
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	55842816
+REDUCE	VALUE_BYTE_COUNT	1646552648
+REDUCE	REDUCE_MEM	173979960
+REDUCE	WRITE	20038000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	1140848817612
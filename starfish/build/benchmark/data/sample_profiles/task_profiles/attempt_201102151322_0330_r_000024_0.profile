@@ -0,0 +1,989 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5518613
+SHUFFLE	COMPRESS_BYTE_COUNT	1716134
+SHUFFLE	COPY_MAP_DATA	738160000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5449008
+SHUFFLE	COMPRESS_BYTE_COUNT	1692986
+SHUFFLE	COPY_MAP_DATA	144390000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5496271
+SHUFFLE	COMPRESS_BYTE_COUNT	1707755
+SHUFFLE	COPY_MAP_DATA	130252000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5550959
+SHUFFLE	COMPRESS_BYTE_COUNT	1724397
+SHUFFLE	COPY_MAP_DATA	220083000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5500679
+SHUFFLE	COMPRESS_BYTE_COUNT	1709444
+SHUFFLE	COPY_MAP_DATA	267146000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5531813
+SHUFFLE	COMPRESS_BYTE_COUNT	1718263
+SHUFFLE	COPY_MAP_DATA	191570000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5534142
+SHUFFLE	COMPRESS_BYTE_COUNT	1719762
+SHUFFLE	COPY_MAP_DATA	655644000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5473334
+SHUFFLE	COMPRESS_BYTE_COUNT	1702063
+SHUFFLE	COPY_MAP_DATA	131478000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5438998
+SHUFFLE	COMPRESS_BYTE_COUNT	1691568
+SHUFFLE	COPY_MAP_DATA	178850000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5517568
+SHUFFLE	COMPRESS_BYTE_COUNT	1736283
+SHUFFLE	COPY_MAP_DATA	88572000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5554192
+SHUFFLE	COMPRESS_BYTE_COUNT	1705465
+SHUFFLE	COPY_MAP_DATA	229030000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5495208
+SHUFFLE	COMPRESS_BYTE_COUNT	1728891
+SHUFFLE	COPY_MAP_DATA	104280000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5530864
+SHUFFLE	COMPRESS_BYTE_COUNT	1717971
+SHUFFLE	COPY_MAP_DATA	123266000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5554908
+SHUFFLE	COMPRESS_BYTE_COUNT	1726274
+SHUFFLE	COPY_MAP_DATA	129397000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5504367
+SHUFFLE	COMPRESS_BYTE_COUNT	1711195
+SHUFFLE	COPY_MAP_DATA	116086000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5503640
+SHUFFLE	COMPRESS_BYTE_COUNT	1711248
+SHUFFLE	COPY_MAP_DATA	129222000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5409595
+SHUFFLE	COMPRESS_BYTE_COUNT	1682025
+SHUFFLE	COPY_MAP_DATA	234446000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5503297
+SHUFFLE	COMPRESS_BYTE_COUNT	1710770
+SHUFFLE	COPY_MAP_DATA	97144000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5521281
+SHUFFLE	COMPRESS_BYTE_COUNT	1716325
+SHUFFLE	COPY_MAP_DATA	160633000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5505891
+SHUFFLE	COMPRESS_BYTE_COUNT	1711771
+SHUFFLE	COPY_MAP_DATA	93871000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5514311
+SHUFFLE	COMPRESS_BYTE_COUNT	1714071
+SHUFFLE	COPY_MAP_DATA	134962000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5516888
+SHUFFLE	COMPRESS_BYTE_COUNT	1714138
+SHUFFLE	COPY_MAP_DATA	100801000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5469154
+SHUFFLE	COMPRESS_BYTE_COUNT	1721558
+SHUFFLE	COPY_MAP_DATA	93877000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5529339
+SHUFFLE	COMPRESS_BYTE_COUNT	1717804
+SHUFFLE	COPY_MAP_DATA	321905000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5480754
+SHUFFLE	COMPRESS_BYTE_COUNT	1725176
+SHUFFLE	COPY_MAP_DATA	92097000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5493211
+SHUFFLE	COMPRESS_BYTE_COUNT	1707563
+SHUFFLE	COPY_MAP_DATA	482491000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5535692
+SHUFFLE	COMPRESS_BYTE_COUNT	1720153
+SHUFFLE	COPY_MAP_DATA	87873000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5479653
+SHUFFLE	COMPRESS_BYTE_COUNT	1703108
+SHUFFLE	COPY_MAP_DATA	5613717000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5476123
+SHUFFLE	COMPRESS_BYTE_COUNT	1703091
+SHUFFLE	COPY_MAP_DATA	406827000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5443874
+SHUFFLE	COMPRESS_BYTE_COUNT	1741149
+SHUFFLE	COPY_MAP_DATA	717668000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5456571
+SHUFFLE	COMPRESS_BYTE_COUNT	1697045
+SHUFFLE	COPY_MAP_DATA	217858000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5564086
+SHUFFLE	COMPRESS_BYTE_COUNT	1708408
+SHUFFLE	COPY_MAP_DATA	1527719000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5555113
+SHUFFLE	COMPRESS_BYTE_COUNT	1726749
+SHUFFLE	COPY_MAP_DATA	227641000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5495005
+SHUFFLE	COMPRESS_BYTE_COUNT	1708453
+SHUFFLE	COPY_MAP_DATA	87609000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5495053
+SHUFFLE	COMPRESS_BYTE_COUNT	1687561
+SHUFFLE	COPY_MAP_DATA	139606000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5521464
+SHUFFLE	COMPRESS_BYTE_COUNT	1715670
+SHUFFLE	COPY_MAP_DATA	409082000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5532203
+SHUFFLE	COMPRESS_BYTE_COUNT	1698563
+SHUFFLE	COPY_MAP_DATA	173096000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5516086
+SHUFFLE	COMPRESS_BYTE_COUNT	1715270
+SHUFFLE	COPY_MAP_DATA	105323000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5462284
+SHUFFLE	COMPRESS_BYTE_COUNT	1698494
+SHUFFLE	COPY_MAP_DATA	2076459000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5489263
+SHUFFLE	COMPRESS_BYTE_COUNT	1686251
+SHUFFLE	COPY_MAP_DATA	622920000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5412771
+SHUFFLE	COMPRESS_BYTE_COUNT	1682542
+SHUFFLE	COPY_MAP_DATA	84263000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5522765
+SHUFFLE	COMPRESS_BYTE_COUNT	1715811
+SHUFFLE	COPY_MAP_DATA	120472000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5536116
+SHUFFLE	COMPRESS_BYTE_COUNT	1720085
+SHUFFLE	COPY_MAP_DATA	277818000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5423416
+SHUFFLE	COMPRESS_BYTE_COUNT	1707295
+SHUFFLE	COPY_MAP_DATA	100077000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5550535
+SHUFFLE	COMPRESS_BYTE_COUNT	1723769
+SHUFFLE	COPY_MAP_DATA	2813548000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5516151
+SHUFFLE	COMPRESS_BYTE_COUNT	1714737
+SHUFFLE	COPY_MAP_DATA	9355762000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5557500
+SHUFFLE	COMPRESS_BYTE_COUNT	1705059
+SHUFFLE	COPY_MAP_DATA	88899000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5545309
+SHUFFLE	COMPRESS_BYTE_COUNT	1703274
+SHUFFLE	COPY_MAP_DATA	109065000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5521055
+SHUFFLE	COMPRESS_BYTE_COUNT	1716568
+SHUFFLE	COPY_MAP_DATA	1708362000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5573644
+SHUFFLE	COMPRESS_BYTE_COUNT	1710893
+SHUFFLE	COPY_MAP_DATA	106526000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5591989
+SHUFFLE	COMPRESS_BYTE_COUNT	1717504
+SHUFFLE	COPY_MAP_DATA	582615000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5560601
+SHUFFLE	COMPRESS_BYTE_COUNT	1728152
+SHUFFLE	COPY_MAP_DATA	1355936000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5539784
+SHUFFLE	COMPRESS_BYTE_COUNT	1701157
+SHUFFLE	COPY_MAP_DATA	1930506000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5511580
+SHUFFLE	COMPRESS_BYTE_COUNT	1711640
+SHUFFLE	COPY_MAP_DATA	1673184000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5546375
+SHUFFLE	COMPRESS_BYTE_COUNT	1702016
+SHUFFLE	COPY_MAP_DATA	169821000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5567143
+SHUFFLE	COMPRESS_BYTE_COUNT	1727633
+SHUFFLE	COPY_MAP_DATA	1572764000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5476888
+SHUFFLE	COMPRESS_BYTE_COUNT	1702444
+SHUFFLE	COPY_MAP_DATA	1678540000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5520454
+SHUFFLE	COMPRESS_BYTE_COUNT	1694588
+SHUFFLE	COPY_MAP_DATA	93702000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5533825
+SHUFFLE	COMPRESS_BYTE_COUNT	1698329
+SHUFFLE	COPY_MAP_DATA	99263000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5586825
+SHUFFLE	COMPRESS_BYTE_COUNT	1714374
+SHUFFLE	COPY_MAP_DATA	117131000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5555468
+SHUFFLE	COMPRESS_BYTE_COUNT	1704503
+SHUFFLE	COPY_MAP_DATA	95939000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5526746
+SHUFFLE	COMPRESS_BYTE_COUNT	1695849
+SHUFFLE	COPY_MAP_DATA	770086000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5545755
+SHUFFLE	COMPRESS_BYTE_COUNT	1703857
+SHUFFLE	COPY_MAP_DATA	454638000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5511519
+SHUFFLE	COMPRESS_BYTE_COUNT	1692953
+SHUFFLE	COPY_MAP_DATA	126088000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5556001
+SHUFFLE	COMPRESS_BYTE_COUNT	1705734
+SHUFFLE	COPY_MAP_DATA	98425000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5517329
+SHUFFLE	COMPRESS_BYTE_COUNT	1693932
+SHUFFLE	COPY_MAP_DATA	167093000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5562590
+SHUFFLE	COMPRESS_BYTE_COUNT	1748179
+SHUFFLE	COPY_MAP_DATA	610360000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5441257
+SHUFFLE	COMPRESS_BYTE_COUNT	1713564
+SHUFFLE	COPY_MAP_DATA	286381000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5524536
+SHUFFLE	COMPRESS_BYTE_COUNT	1696134
+SHUFFLE	COPY_MAP_DATA	194003000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5553468
+SHUFFLE	COMPRESS_BYTE_COUNT	1705259
+SHUFFLE	COPY_MAP_DATA	99772000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5552559
+SHUFFLE	COMPRESS_BYTE_COUNT	1704725
+SHUFFLE	COPY_MAP_DATA	104257000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5523291
+SHUFFLE	COMPRESS_BYTE_COUNT	1695072
+SHUFFLE	COPY_MAP_DATA	423386000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5560180
+SHUFFLE	COMPRESS_BYTE_COUNT	1706010
+SHUFFLE	COPY_MAP_DATA	379928000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5593244
+SHUFFLE	COMPRESS_BYTE_COUNT	1717841
+SHUFFLE	COPY_MAP_DATA	109746000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5621330
+SHUFFLE	COMPRESS_BYTE_COUNT	1725480
+SHUFFLE	COPY_MAP_DATA	871205000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5509635
+SHUFFLE	COMPRESS_BYTE_COUNT	1691694
+SHUFFLE	COPY_MAP_DATA	319101000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5520669
+SHUFFLE	COMPRESS_BYTE_COUNT	1694138
+SHUFFLE	COPY_MAP_DATA	90745000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5481266
+SHUFFLE	COMPRESS_BYTE_COUNT	1683683
+SHUFFLE	COPY_MAP_DATA	161011000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5532641
+SHUFFLE	COMPRESS_BYTE_COUNT	1697847
+SHUFFLE	COPY_MAP_DATA	2692493000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5522341
+SHUFFLE	COMPRESS_BYTE_COUNT	1695731
+SHUFFLE	COPY_MAP_DATA	84161000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5505586
+SHUFFLE	COMPRESS_BYTE_COUNT	1690128
+SHUFFLE	COPY_MAP_DATA	312165000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5591948
+SHUFFLE	COMPRESS_BYTE_COUNT	1715603
+SHUFFLE	COPY_MAP_DATA	136971000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5530437
+SHUFFLE	COMPRESS_BYTE_COUNT	1697489
+SHUFFLE	COPY_MAP_DATA	260012000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5503550
+SHUFFLE	COMPRESS_BYTE_COUNT	1732277
+SHUFFLE	COPY_MAP_DATA	204372000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5598873
+SHUFFLE	COMPRESS_BYTE_COUNT	1718068
+SHUFFLE	COPY_MAP_DATA	1738688000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5532435
+SHUFFLE	COMPRESS_BYTE_COUNT	1698542
+SHUFFLE	COPY_MAP_DATA	134334000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5520604
+SHUFFLE	COMPRESS_BYTE_COUNT	1694778
+SHUFFLE	COPY_MAP_DATA	397771000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5553168
+SHUFFLE	COMPRESS_BYTE_COUNT	1704112
+SHUFFLE	COPY_MAP_DATA	87359000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5604660
+SHUFFLE	COMPRESS_BYTE_COUNT	1720189
+SHUFFLE	COPY_MAP_DATA	92000000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5547172
+SHUFFLE	COMPRESS_BYTE_COUNT	1702459
+SHUFFLE	COPY_MAP_DATA	102408000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5540184
+SHUFFLE	COMPRESS_BYTE_COUNT	1701819
+SHUFFLE	COPY_MAP_DATA	363927000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5492242
+SHUFFLE	COMPRESS_BYTE_COUNT	1685997
+SHUFFLE	COPY_MAP_DATA	309340000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5543053
+SHUFFLE	COMPRESS_BYTE_COUNT	1700432
+SHUFFLE	COPY_MAP_DATA	1545338000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5583160
+SHUFFLE	COMPRESS_BYTE_COUNT	1713103
+SHUFFLE	COPY_MAP_DATA	183088000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5585017
+SHUFFLE	COMPRESS_BYTE_COUNT	1713980
+SHUFFLE	COPY_MAP_DATA	83649000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5557451
+SHUFFLE	COMPRESS_BYTE_COUNT	1705854
+SHUFFLE	COPY_MAP_DATA	1942693000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5508505
+SHUFFLE	COMPRESS_BYTE_COUNT	1711997
+SHUFFLE	COPY_MAP_DATA	410003000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5568304
+SHUFFLE	COMPRESS_BYTE_COUNT	1709410
+SHUFFLE	COPY_MAP_DATA	666213000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5544872
+SHUFFLE	COMPRESS_BYTE_COUNT	1701792
+SHUFFLE	COPY_MAP_DATA	490428000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5503668
+SHUFFLE	COMPRESS_BYTE_COUNT	1690623
+SHUFFLE	COPY_MAP_DATA	1735415000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5543408
+SHUFFLE	COMPRESS_BYTE_COUNT	1722865
+SHUFFLE	COPY_MAP_DATA	301132000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5524076
+SHUFFLE	COMPRESS_BYTE_COUNT	1695688
+SHUFFLE	COPY_MAP_DATA	173121000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5544045
+SHUFFLE	COMPRESS_BYTE_COUNT	1701370
+SHUFFLE	COPY_MAP_DATA	194769000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5552739
+SHUFFLE	COMPRESS_BYTE_COUNT	1703890
+SHUFFLE	COPY_MAP_DATA	174364000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5550210
+SHUFFLE	COMPRESS_BYTE_COUNT	1703714
+SHUFFLE	COPY_MAP_DATA	559667000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5597815
+SHUFFLE	COMPRESS_BYTE_COUNT	1717369
+SHUFFLE	COPY_MAP_DATA	2310920000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5555830
+SHUFFLE	COMPRESS_BYTE_COUNT	1704352
+SHUFFLE	COPY_MAP_DATA	88983000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5570650
+SHUFFLE	COMPRESS_BYTE_COUNT	1729542
+SHUFFLE	COPY_MAP_DATA	98568000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5561581
+SHUFFLE	COMPRESS_BYTE_COUNT	1707478
+SHUFFLE	COPY_MAP_DATA	4169589000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5563012
+SHUFFLE	COMPRESS_BYTE_COUNT	1707951
+SHUFFLE	COPY_MAP_DATA	761047000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5515646
+SHUFFLE	COMPRESS_BYTE_COUNT	1715221
+SHUFFLE	COPY_MAP_DATA	103937000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5475605
+SHUFFLE	COMPRESS_BYTE_COUNT	1701179
+SHUFFLE	COPY_MAP_DATA	98765000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5517812
+SHUFFLE	COMPRESS_BYTE_COUNT	1692757
+SHUFFLE	COPY_MAP_DATA	144735000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5524223
+SHUFFLE	COMPRESS_BYTE_COUNT	1717028
+SHUFFLE	COPY_MAP_DATA	105166000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5575015
+SHUFFLE	COMPRESS_BYTE_COUNT	1710531
+SHUFFLE	COPY_MAP_DATA	278053000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5475587
+SHUFFLE	COMPRESS_BYTE_COUNT	1701474
+SHUFFLE	COPY_MAP_DATA	182271000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5517026
+SHUFFLE	COMPRESS_BYTE_COUNT	1694627
+SHUFFLE	COPY_MAP_DATA	565686000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5562237
+SHUFFLE	COMPRESS_BYTE_COUNT	1707083
+SHUFFLE	COPY_MAP_DATA	89245000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5581513
+SHUFFLE	COMPRESS_BYTE_COUNT	1711948
+SHUFFLE	COPY_MAP_DATA	244608000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5550986
+SHUFFLE	COMPRESS_BYTE_COUNT	1724260
+SHUFFLE	COPY_MAP_DATA	100278000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5504692
+SHUFFLE	COMPRESS_BYTE_COUNT	1711246
+SHUFFLE	COPY_MAP_DATA	88223000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5527537
+SHUFFLE	COMPRESS_BYTE_COUNT	1696181
+SHUFFLE	COPY_MAP_DATA	1152776000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5556871
+SHUFFLE	COMPRESS_BYTE_COUNT	1726526
+SHUFFLE	COPY_MAP_DATA	89778000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5552214
+SHUFFLE	COMPRESS_BYTE_COUNT	1703787
+SHUFFLE	COPY_MAP_DATA	114471000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5468008
+SHUFFLE	COMPRESS_BYTE_COUNT	1699832
+SHUFFLE	COPY_MAP_DATA	580459000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5522629
+SHUFFLE	COMPRESS_BYTE_COUNT	1716814
+SHUFFLE	COPY_MAP_DATA	2241947000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5513007
+SHUFFLE	COMPRESS_BYTE_COUNT	1713218
+SHUFFLE	COPY_MAP_DATA	707144000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5508540
+SHUFFLE	COMPRESS_BYTE_COUNT	1712846
+SHUFFLE	COPY_MAP_DATA	437759000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5521062
+SHUFFLE	COMPRESS_BYTE_COUNT	1715702
+SHUFFLE	COPY_MAP_DATA	117981000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5498209
+SHUFFLE	COMPRESS_BYTE_COUNT	1708212
+SHUFFLE	COPY_MAP_DATA	901111000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5502203
+SHUFFLE	COMPRESS_BYTE_COUNT	1710137
+SHUFFLE	COPY_MAP_DATA	690558000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5596701
+SHUFFLE	COMPRESS_BYTE_COUNT	1718390
+SHUFFLE	COPY_MAP_DATA	322649000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5487343
+SHUFFLE	COMPRESS_BYTE_COUNT	1706486
+SHUFFLE	COPY_MAP_DATA	98573000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5561147
+SHUFFLE	COMPRESS_BYTE_COUNT	1727721
+SHUFFLE	COPY_MAP_DATA	305559000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5444868
+SHUFFLE	COMPRESS_BYTE_COUNT	1690680
+SHUFFLE	COPY_MAP_DATA	92271000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5549991
+SHUFFLE	COMPRESS_BYTE_COUNT	1725583
+SHUFFLE	COPY_MAP_DATA	776960000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5516306
+SHUFFLE	COMPRESS_BYTE_COUNT	1714095
+SHUFFLE	COPY_MAP_DATA	618094000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5538077
+SHUFFLE	COMPRESS_BYTE_COUNT	1720184
+SHUFFLE	COPY_MAP_DATA	178030000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5509842
+SHUFFLE	COMPRESS_BYTE_COUNT	1713833
+SHUFFLE	COPY_MAP_DATA	237148000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5544564
+SHUFFLE	COMPRESS_BYTE_COUNT	1726817
+SHUFFLE	COPY_MAP_DATA	112257000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5503732
+SHUFFLE	COMPRESS_BYTE_COUNT	1710226
+SHUFFLE	COPY_MAP_DATA	1960390000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5467015
+SHUFFLE	COMPRESS_BYTE_COUNT	1698981
+SHUFFLE	COPY_MAP_DATA	92224000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5492242
+SHUFFLE	COMPRESS_BYTE_COUNT	1707352
+SHUFFLE	COPY_MAP_DATA	568186000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5507273
+SHUFFLE	COMPRESS_BYTE_COUNT	1711676
+SHUFFLE	COPY_MAP_DATA	1541241000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5552473
+SHUFFLE	COMPRESS_BYTE_COUNT	1731306
+SHUFFLE	COPY_MAP_DATA	84894000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5511144
+SHUFFLE	COMPRESS_BYTE_COUNT	1712436
+SHUFFLE	COPY_MAP_DATA	83361000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5512972
+SHUFFLE	COMPRESS_BYTE_COUNT	1712434
+SHUFFLE	COPY_MAP_DATA	82588000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5500349
+SHUFFLE	COMPRESS_BYTE_COUNT	1708695
+SHUFFLE	COPY_MAP_DATA	529965000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5549462
+SHUFFLE	COMPRESS_BYTE_COUNT	1728632
+SHUFFLE	COPY_MAP_DATA	863258000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5515881
+SHUFFLE	COMPRESS_BYTE_COUNT	1713815
+SHUFFLE	COPY_MAP_DATA	285978000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5520266
+SHUFFLE	COMPRESS_BYTE_COUNT	1716008
+SHUFFLE	COPY_MAP_DATA	158662000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5548582
+SHUFFLE	COMPRESS_BYTE_COUNT	1727905
+SHUFFLE	COPY_MAP_DATA	107836000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5549303
+SHUFFLE	COMPRESS_BYTE_COUNT	1728235
+SHUFFLE	COPY_MAP_DATA	1374020000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5533218
+SHUFFLE	COMPRESS_BYTE_COUNT	1740773
+SHUFFLE	COPY_MAP_DATA	93475000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5540441
+SHUFFLE	COMPRESS_BYTE_COUNT	1723257
+SHUFFLE	COPY_MAP_DATA	84979000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5494502
+SHUFFLE	COMPRESS_BYTE_COUNT	1707140
+SHUFFLE	COPY_MAP_DATA	83327000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5561023
+SHUFFLE	COMPRESS_BYTE_COUNT	1731592
+SHUFFLE	COPY_MAP_DATA	227258000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5552515
+SHUFFLE	COMPRESS_BYTE_COUNT	1727288
+SHUFFLE	COPY_MAP_DATA	353061000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5613911
+SHUFFLE	COMPRESS_BYTE_COUNT	1732423
+SHUFFLE	COPY_MAP_DATA	755568000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5502754
+SHUFFLE	COMPRESS_BYTE_COUNT	1746174
+SHUFFLE	COPY_MAP_DATA	85718000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5589800
+SHUFFLE	COMPRESS_BYTE_COUNT	1726912
+SHUFFLE	COPY_MAP_DATA	83295000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4731743
+SHUFFLE	COMPRESS_BYTE_COUNT	1452944
+SHUFFLE	COPY_MAP_DATA	115034000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4747896
+SHUFFLE	COMPRESS_BYTE_COUNT	1457292
+SHUFFLE	COPY_MAP_DATA	124163000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5610038
+SHUFFLE	COMPRESS_BYTE_COUNT	1731962
+SHUFFLE	COPY_MAP_DATA	148454000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5602451
+SHUFFLE	COMPRESS_BYTE_COUNT	1728972
+SHUFFLE	COPY_MAP_DATA	83360000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4484245
+SHUFFLE	COMPRESS_BYTE_COUNT	1393527
+SHUFFLE	COPY_MAP_DATA	133415000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4740496
+SHUFFLE	COMPRESS_BYTE_COUNT	1455490
+SHUFFLE	COPY_MAP_DATA	104509000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4483527
+SHUFFLE	COMPRESS_BYTE_COUNT	1393783
+SHUFFLE	COPY_MAP_DATA	458096000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5587413
+SHUFFLE	COMPRESS_BYTE_COUNT	1724171
+SHUFFLE	COPY_MAP_DATA	257679000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5600327
+SHUFFLE	COMPRESS_BYTE_COUNT	1728733
+SHUFFLE	COPY_MAP_DATA	276793000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4800586
+SHUFFLE	COMPRESS_BYTE_COUNT	1473574
+SHUFFLE	COPY_MAP_DATA	116321000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5591294
+SHUFFLE	COMPRESS_BYTE_COUNT	1725330
+SHUFFLE	COPY_MAP_DATA	526253000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5581046
+SHUFFLE	COMPRESS_BYTE_COUNT	1723940
+SHUFFLE	COPY_MAP_DATA	120950000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5591696
+SHUFFLE	COMPRESS_BYTE_COUNT	1726383
+SHUFFLE	COPY_MAP_DATA	176753000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5591676
+SHUFFLE	COMPRESS_BYTE_COUNT	1726369
+SHUFFLE	COPY_MAP_DATA	640563000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5597658
+SHUFFLE	COMPRESS_BYTE_COUNT	1728645
+SHUFFLE	COPY_MAP_DATA	86413000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5549800
+SHUFFLE	COMPRESS_BYTE_COUNT	1728244
+SHUFFLE	COPY_MAP_DATA	87703000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4739102
+SHUFFLE	COMPRESS_BYTE_COUNT	1455266
+SHUFFLE	COPY_MAP_DATA	80014000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5578053
+SHUFFLE	COMPRESS_BYTE_COUNT	1721668
+SHUFFLE	COPY_MAP_DATA	453304000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4696805
+SHUFFLE	COMPRESS_BYTE_COUNT	1442583
+SHUFFLE	COPY_MAP_DATA	72064000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4775174
+SHUFFLE	COMPRESS_BYTE_COUNT	1465770
+SHUFFLE	COPY_MAP_DATA	348947000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5546017
+SHUFFLE	COMPRESS_BYTE_COUNT	1727959
+SHUFFLE	COPY_MAP_DATA	90382000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5561310
+SHUFFLE	COMPRESS_BYTE_COUNT	1732499
+SHUFFLE	COPY_MAP_DATA	966369000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5562682
+SHUFFLE	COMPRESS_BYTE_COUNT	1731557
+SHUFFLE	COPY_MAP_DATA	273486000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1735503
+SHUFFLE	COMPRESS_BYTE_COUNT	535877
+SHUFFLE	COPY_MAP_DATA	110151000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5553270
+SHUFFLE	COMPRESS_BYTE_COUNT	1729209
+SHUFFLE	COPY_MAP_DATA	858384000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4804781
+SHUFFLE	COMPRESS_BYTE_COUNT	1474471
+SHUFFLE	COPY_MAP_DATA	74337000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5565644
+SHUFFLE	COMPRESS_BYTE_COUNT	1733638
+SHUFFLE	COPY_MAP_DATA	375238000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4753417
+SHUFFLE	COMPRESS_BYTE_COUNT	1459422
+SHUFFLE	COPY_MAP_DATA	72667000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4468442
+SHUFFLE	COMPRESS_BYTE_COUNT	1388078
+SHUFFLE	COPY_MAP_DATA	85891000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4444178
+SHUFFLE	COMPRESS_BYTE_COUNT	1380989
+SHUFFLE	COPY_MAP_DATA	74713000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4492650
+SHUFFLE	COMPRESS_BYTE_COUNT	1397134
+SHUFFLE	COPY_MAP_DATA	67558000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5549954
+SHUFFLE	COMPRESS_BYTE_COUNT	1728347
+SHUFFLE	COPY_MAP_DATA	194333000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4299390
+SHUFFLE	COMPRESS_BYTE_COUNT	1336686
+SHUFFLE	COPY_MAP_DATA	1080043000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4478650
+SHUFFLE	COMPRESS_BYTE_COUNT	1391249
+SHUFFLE	COPY_MAP_DATA	533823000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1736450
+SHUFFLE	COMPRESS_BYTE_COUNT	536575
+SHUFFLE	COPY_MAP_DATA	14166257000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5595424
+SHUFFLE	COMPRESS_BYTE_COUNT	1726976
+SHUFFLE	COPY_MAP_DATA	238221000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1746383
+SHUFFLE	COMPRESS_BYTE_COUNT	539729
+SHUFFLE	COPY_MAP_DATA	36446000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1667710
+SHUFFLE	COMPRESS_BYTE_COUNT	520843
+SHUFFLE	COPY_MAP_DATA	32749000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1737882
+SHUFFLE	COMPRESS_BYTE_COUNT	537408
+SHUFFLE	COPY_MAP_DATA	209169000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1734818
+SHUFFLE	COMPRESS_BYTE_COUNT	536425
+SHUFFLE	COPY_MAP_DATA	152570000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5546644
+SHUFFLE	COMPRESS_BYTE_COUNT	1727855
+SHUFFLE	COPY_MAP_DATA	193961000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1748628
+SHUFFLE	COMPRESS_BYTE_COUNT	540532
+SHUFFLE	COPY_MAP_DATA	29079000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1743914
+SHUFFLE	COMPRESS_BYTE_COUNT	539488
+SHUFFLE	COPY_MAP_DATA	57074000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4495689
+SHUFFLE	COMPRESS_BYTE_COUNT	1397099
+SHUFFLE	COPY_MAP_DATA	271903000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1665742
+SHUFFLE	COMPRESS_BYTE_COUNT	519485
+SHUFFLE	COPY_MAP_DATA	1087428000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1740050
+SHUFFLE	COMPRESS_BYTE_COUNT	537505
+SHUFFLE	COPY_MAP_DATA	135470000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4434605
+SHUFFLE	COMPRESS_BYTE_COUNT	1378641
+SHUFFLE	COPY_MAP_DATA	71181000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1747823
+SHUFFLE	COMPRESS_BYTE_COUNT	540367
+SHUFFLE	COPY_MAP_DATA	678846000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4667376
+SHUFFLE	COMPRESS_BYTE_COUNT	1433347
+SHUFFLE	COPY_MAP_DATA	80428000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1663012
+SHUFFLE	COMPRESS_BYTE_COUNT	519039
+SHUFFLE	COPY_MAP_DATA	183436000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1655371
+SHUFFLE	COMPRESS_BYTE_COUNT	516511
+SHUFFLE	COPY_MAP_DATA	37382000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1664827
+SHUFFLE	COMPRESS_BYTE_COUNT	519849
+SHUFFLE	COPY_MAP_DATA	28145000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1663028
+SHUFFLE	COMPRESS_BYTE_COUNT	519431
+SHUFFLE	COPY_MAP_DATA	61602000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1656551
+SHUFFLE	COMPRESS_BYTE_COUNT	517822
+SHUFFLE	COPY_MAP_DATA	36997000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4708942
+SHUFFLE	COMPRESS_BYTE_COUNT	1445812
+SHUFFLE	COPY_MAP_DATA	70212000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4432321
+SHUFFLE	COMPRESS_BYTE_COUNT	1376976
+SHUFFLE	COPY_MAP_DATA	848504000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4739032
+SHUFFLE	COMPRESS_BYTE_COUNT	1454583
+SHUFFLE	COPY_MAP_DATA	82835000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4518049
+SHUFFLE	COMPRESS_BYTE_COUNT	1387125
+SHUFFLE	COPY_MAP_DATA	70808000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4455961
+SHUFFLE	COMPRESS_BYTE_COUNT	1384303
+SHUFFLE	COPY_MAP_DATA	76322000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4141552
+SHUFFLE	COMPRESS_BYTE_COUNT	1306330
+SHUFFLE	COPY_MAP_DATA	268486000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1666979
+SHUFFLE	COMPRESS_BYTE_COUNT	520095
+SHUFFLE	COPY_MAP_DATA	144084000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1742583
+SHUFFLE	COMPRESS_BYTE_COUNT	537785
+SHUFFLE	COPY_MAP_DATA	29218000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4410430
+SHUFFLE	COMPRESS_BYTE_COUNT	1370149
+SHUFFLE	COPY_MAP_DATA	69823000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4701518
+SHUFFLE	COMPRESS_BYTE_COUNT	1443519
+SHUFFLE	COPY_MAP_DATA	2396541000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1735387
+SHUFFLE	COMPRESS_BYTE_COUNT	536171
+SHUFFLE	COPY_MAP_DATA	29202000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4424568
+SHUFFLE	COMPRESS_BYTE_COUNT	1375487
+SHUFFLE	COPY_MAP_DATA	72040000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4422964
+SHUFFLE	COMPRESS_BYTE_COUNT	1373782
+SHUFFLE	COPY_MAP_DATA	241076000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1669606
+SHUFFLE	COMPRESS_BYTE_COUNT	521076
+SHUFFLE	COPY_MAP_DATA	101208000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1741933
+SHUFFLE	COMPRESS_BYTE_COUNT	538000
+SHUFFLE	COPY_MAP_DATA	895849000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1733031
+SHUFFLE	COMPRESS_BYTE_COUNT	535319
+SHUFFLE	COPY_MAP_DATA	26176000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1663790
+SHUFFLE	COMPRESS_BYTE_COUNT	519181
+SHUFFLE	COPY_MAP_DATA	25458000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1582023
+SHUFFLE	COMPRESS_BYTE_COUNT	498860
+SHUFFLE	COPY_MAP_DATA	56348000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1671753
+SHUFFLE	COMPRESS_BYTE_COUNT	521668
+SHUFFLE	COPY_MAP_DATA	26198000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1689690
+SHUFFLE	COMPRESS_BYTE_COUNT	522461
+SHUFFLE	COPY_MAP_DATA	27304000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1623076
+SHUFFLE	COMPRESS_BYTE_COUNT	506113
+SHUFFLE	COPY_MAP_DATA	34471000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1666320
+SHUFFLE	COMPRESS_BYTE_COUNT	519784
+SHUFFLE	COPY_MAP_DATA	26670000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1671842
+SHUFFLE	COMPRESS_BYTE_COUNT	521527
+SHUFFLE	COPY_MAP_DATA	26236000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4449654
+SHUFFLE	COMPRESS_BYTE_COUNT	1382891
+SHUFFLE	COPY_MAP_DATA	66867000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1664840
+SHUFFLE	COMPRESS_BYTE_COUNT	518640
+SHUFFLE	COPY_MAP_DATA	27287000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	469106082217
+MERGE	READ_WRITE	455813699217
+MERGE	READ_WRITE_COUNT	8
+MERGE	COMBINE	0
+MERGE	WRITE	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	8688658000
+SORT	READ_WRITE	8523274000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	246034472
+REDUCE	SETUP	405000
+REDUCE	SETUP_MEM	246034472
+REDUCE	CLEANUP	34000
+REDUCE	CLEANUP_MEM	242829528
+REDUCE	TOTAL_RUN	437968481000
+REDUCE	READ	7307401000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	421484965000
+REDUCE	WRITE	233956087000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	55868426
+REDUCE	VALUE_BYTE_COUNT	1647513569
+REDUCE	REDUCE_MEM	242831576
+REDUCE	WRITE	27133000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	1116599984602
@@ -0,0 +1,989 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5536092
+SHUFFLE	COMPRESS_BYTE_COUNT	1719853
+SHUFFLE	COPY_MAP_DATA	1556229000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5502895
+SHUFFLE	COMPRESS_BYTE_COUNT	1710696
+SHUFFLE	COPY_MAP_DATA	404203000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5476485
+SHUFFLE	COMPRESS_BYTE_COUNT	1703394
+SHUFFLE	COPY_MAP_DATA	325691000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5467794
+SHUFFLE	COMPRESS_BYTE_COUNT	1700769
+SHUFFLE	COPY_MAP_DATA	238217000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5523087
+SHUFFLE	COMPRESS_BYTE_COUNT	1739179
+SHUFFLE	COPY_MAP_DATA	139612000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5501712
+SHUFFLE	COMPRESS_BYTE_COUNT	1709599
+SHUFFLE	COPY_MAP_DATA	390539000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5574928
+SHUFFLE	COMPRESS_BYTE_COUNT	1732125
+SHUFFLE	COPY_MAP_DATA	2765230000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5474653
+SHUFFLE	COMPRESS_BYTE_COUNT	1723547
+SHUFFLE	COPY_MAP_DATA	321403000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5505271
+SHUFFLE	COMPRESS_BYTE_COUNT	1711286
+SHUFFLE	COPY_MAP_DATA	404629000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5507699
+SHUFFLE	COMPRESS_BYTE_COUNT	1712499
+SHUFFLE	COPY_MAP_DATA	1082122000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5498790
+SHUFFLE	COMPRESS_BYTE_COUNT	1709164
+SHUFFLE	COPY_MAP_DATA	624255000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5522365
+SHUFFLE	COMPRESS_BYTE_COUNT	1717024
+SHUFFLE	COPY_MAP_DATA	332370000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5582944
+SHUFFLE	COMPRESS_BYTE_COUNT	1713504
+SHUFFLE	COPY_MAP_DATA	133823000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5512637
+SHUFFLE	COMPRESS_BYTE_COUNT	1712603
+SHUFFLE	COPY_MAP_DATA	396826000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5610577
+SHUFFLE	COMPRESS_BYTE_COUNT	1742591
+SHUFFLE	COPY_MAP_DATA	625118000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5516386
+SHUFFLE	COMPRESS_BYTE_COUNT	1713616
+SHUFFLE	COPY_MAP_DATA	88557000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5436333
+SHUFFLE	COMPRESS_BYTE_COUNT	1689744
+SHUFFLE	COPY_MAP_DATA	135582000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5551101
+SHUFFLE	COMPRESS_BYTE_COUNT	1724800
+SHUFFLE	COPY_MAP_DATA	94950000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5504946
+SHUFFLE	COMPRESS_BYTE_COUNT	1711316
+SHUFFLE	COPY_MAP_DATA	165682000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5552109
+SHUFFLE	COMPRESS_BYTE_COUNT	1726126
+SHUFFLE	COPY_MAP_DATA	106002000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5448430
+SHUFFLE	COMPRESS_BYTE_COUNT	1714964
+SHUFFLE	COPY_MAP_DATA	104029000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5487681
+SHUFFLE	COMPRESS_BYTE_COUNT	1705469
+SHUFFLE	COPY_MAP_DATA	85707000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5504980
+SHUFFLE	COMPRESS_BYTE_COUNT	1711134
+SHUFFLE	COPY_MAP_DATA	93868000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5422777
+SHUFFLE	COMPRESS_BYTE_COUNT	1707740
+SHUFFLE	COPY_MAP_DATA	91711000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5503467
+SHUFFLE	COMPRESS_BYTE_COUNT	1710988
+SHUFFLE	COPY_MAP_DATA	164386000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5440983
+SHUFFLE	COMPRESS_BYTE_COUNT	1690477
+SHUFFLE	COPY_MAP_DATA	691145000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5426754
+SHUFFLE	COMPRESS_BYTE_COUNT	1688294
+SHUFFLE	COPY_MAP_DATA	209158000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5435642
+SHUFFLE	COMPRESS_BYTE_COUNT	1690215
+SHUFFLE	COPY_MAP_DATA	2174742000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5543329
+SHUFFLE	COMPRESS_BYTE_COUNT	1723018
+SHUFFLE	COPY_MAP_DATA	2842952000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5425047
+SHUFFLE	COMPRESS_BYTE_COUNT	1733566
+SHUFFLE	COPY_MAP_DATA	699876000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5558168
+SHUFFLE	COMPRESS_BYTE_COUNT	1726690
+SHUFFLE	COPY_MAP_DATA	2477188000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5602033
+SHUFFLE	COMPRESS_BYTE_COUNT	1719246
+SHUFFLE	COPY_MAP_DATA	85765000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5505064
+SHUFFLE	COMPRESS_BYTE_COUNT	1711044
+SHUFFLE	COPY_MAP_DATA	99882000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5626547
+SHUFFLE	COMPRESS_BYTE_COUNT	1726181
+SHUFFLE	COPY_MAP_DATA	87470000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5501612
+SHUFFLE	COMPRESS_BYTE_COUNT	1711469
+SHUFFLE	COPY_MAP_DATA	129225000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5524421
+SHUFFLE	COMPRESS_BYTE_COUNT	1717483
+SHUFFLE	COPY_MAP_DATA	83615000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5548210
+SHUFFLE	COMPRESS_BYTE_COUNT	1723583
+SHUFFLE	COPY_MAP_DATA	702714000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5591351
+SHUFFLE	COMPRESS_BYTE_COUNT	1715367
+SHUFFLE	COPY_MAP_DATA	279115000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5476330
+SHUFFLE	COMPRESS_BYTE_COUNT	1702039
+SHUFFLE	COPY_MAP_DATA	113618000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5520348
+SHUFFLE	COMPRESS_BYTE_COUNT	1736674
+SHUFFLE	COPY_MAP_DATA	90884000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5479816
+SHUFFLE	COMPRESS_BYTE_COUNT	1702770
+SHUFFLE	COPY_MAP_DATA	1580765000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5492806
+SHUFFLE	COMPRESS_BYTE_COUNT	1705937
+SHUFFLE	COPY_MAP_DATA	194536000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5513956
+SHUFFLE	COMPRESS_BYTE_COUNT	1712352
+SHUFFLE	COPY_MAP_DATA	127330000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5554337
+SHUFFLE	COMPRESS_BYTE_COUNT	1704337
+SHUFFLE	COPY_MAP_DATA	813311000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5528567
+SHUFFLE	COMPRESS_BYTE_COUNT	1718626
+SHUFFLE	COPY_MAP_DATA	417876000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5559818
+SHUFFLE	COMPRESS_BYTE_COUNT	1706683
+SHUFFLE	COPY_MAP_DATA	1129506000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5552999
+SHUFFLE	COMPRESS_BYTE_COUNT	1704324
+SHUFFLE	COPY_MAP_DATA	2547479000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5539466
+SHUFFLE	COMPRESS_BYTE_COUNT	1721078
+SHUFFLE	COPY_MAP_DATA	899371000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5529018
+SHUFFLE	COMPRESS_BYTE_COUNT	1718831
+SHUFFLE	COPY_MAP_DATA	11117290000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5510989
+SHUFFLE	COMPRESS_BYTE_COUNT	1691162
+SHUFFLE	COPY_MAP_DATA	373974000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5521454
+SHUFFLE	COMPRESS_BYTE_COUNT	1716791
+SHUFFLE	COPY_MAP_DATA	1966010000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5559413
+SHUFFLE	COMPRESS_BYTE_COUNT	1706119
+SHUFFLE	COPY_MAP_DATA	149273000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5521892
+SHUFFLE	COMPRESS_BYTE_COUNT	1695605
+SHUFFLE	COPY_MAP_DATA	630284000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5571715
+SHUFFLE	COMPRESS_BYTE_COUNT	1710365
+SHUFFLE	COPY_MAP_DATA	155556000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5501970
+SHUFFLE	COMPRESS_BYTE_COUNT	1709415
+SHUFFLE	COPY_MAP_DATA	335867000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5454696
+SHUFFLE	COMPRESS_BYTE_COUNT	1693020
+SHUFFLE	COPY_MAP_DATA	81497000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5503379
+SHUFFLE	COMPRESS_BYTE_COUNT	1710511
+SHUFFLE	COPY_MAP_DATA	83560000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5481237
+SHUFFLE	COMPRESS_BYTE_COUNT	1683426
+SHUFFLE	COPY_MAP_DATA	332705000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5526456
+SHUFFLE	COMPRESS_BYTE_COUNT	1696694
+SHUFFLE	COPY_MAP_DATA	83600000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5528418
+SHUFFLE	COMPRESS_BYTE_COUNT	1696974
+SHUFFLE	COPY_MAP_DATA	4946389000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5557603
+SHUFFLE	COMPRESS_BYTE_COUNT	1706055
+SHUFFLE	COPY_MAP_DATA	830310000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5587159
+SHUFFLE	COMPRESS_BYTE_COUNT	1714482
+SHUFFLE	COPY_MAP_DATA	2185662000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5507541
+SHUFFLE	COMPRESS_BYTE_COUNT	1689766
+SHUFFLE	COPY_MAP_DATA	4281088000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5537268
+SHUFFLE	COMPRESS_BYTE_COUNT	1700032
+SHUFFLE	COPY_MAP_DATA	102712000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5570050
+SHUFFLE	COMPRESS_BYTE_COUNT	1709959
+SHUFFLE	COPY_MAP_DATA	88717000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5511867
+SHUFFLE	COMPRESS_BYTE_COUNT	1692218
+SHUFFLE	COPY_MAP_DATA	103417000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5605531
+SHUFFLE	COMPRESS_BYTE_COUNT	1720337
+SHUFFLE	COPY_MAP_DATA	160323000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5529718
+SHUFFLE	COMPRESS_BYTE_COUNT	1737092
+SHUFFLE	COPY_MAP_DATA	98255000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5440729
+SHUFFLE	COMPRESS_BYTE_COUNT	1714029
+SHUFFLE	COPY_MAP_DATA	117860000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5591046
+SHUFFLE	COMPRESS_BYTE_COUNT	1717000
+SHUFFLE	COPY_MAP_DATA	177472000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5544600
+SHUFFLE	COMPRESS_BYTE_COUNT	1701604
+SHUFFLE	COPY_MAP_DATA	219617000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5563273
+SHUFFLE	COMPRESS_BYTE_COUNT	1707278
+SHUFFLE	COPY_MAP_DATA	858604000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5567726
+SHUFFLE	COMPRESS_BYTE_COUNT	1709253
+SHUFFLE	COPY_MAP_DATA	316761000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5567349
+SHUFFLE	COMPRESS_BYTE_COUNT	1708582
+SHUFFLE	COPY_MAP_DATA	87902000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5558334
+SHUFFLE	COMPRESS_BYTE_COUNT	1706379
+SHUFFLE	COPY_MAP_DATA	383109000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5501380
+SHUFFLE	COMPRESS_BYTE_COUNT	1688771
+SHUFFLE	COPY_MAP_DATA	339821000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5518363
+SHUFFLE	COMPRESS_BYTE_COUNT	1693776
+SHUFFLE	COPY_MAP_DATA	89905000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5534003
+SHUFFLE	COMPRESS_BYTE_COUNT	1698381
+SHUFFLE	COPY_MAP_DATA	2389497000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5592625
+SHUFFLE	COMPRESS_BYTE_COUNT	1716417
+SHUFFLE	COPY_MAP_DATA	3473238000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5522724
+SHUFFLE	COMPRESS_BYTE_COUNT	1694440
+SHUFFLE	COPY_MAP_DATA	254660000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5585442
+SHUFFLE	COMPRESS_BYTE_COUNT	1715244
+SHUFFLE	COPY_MAP_DATA	2007610000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5563621
+SHUFFLE	COMPRESS_BYTE_COUNT	1706302
+SHUFFLE	COPY_MAP_DATA	247079000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5607494
+SHUFFLE	COMPRESS_BYTE_COUNT	1722724
+SHUFFLE	COPY_MAP_DATA	118290000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5432240
+SHUFFLE	COMPRESS_BYTE_COUNT	1710013
+SHUFFLE	COPY_MAP_DATA	432924000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5550865
+SHUFFLE	COMPRESS_BYTE_COUNT	1702956
+SHUFFLE	COPY_MAP_DATA	288642000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5542441
+SHUFFLE	COMPRESS_BYTE_COUNT	1702326
+SHUFFLE	COPY_MAP_DATA	89123000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5514208
+SHUFFLE	COMPRESS_BYTE_COUNT	1692949
+SHUFFLE	COPY_MAP_DATA	273665000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5526741
+SHUFFLE	COMPRESS_BYTE_COUNT	1696568
+SHUFFLE	COPY_MAP_DATA	3541855000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5555534
+SHUFFLE	COMPRESS_BYTE_COUNT	1704971
+SHUFFLE	COPY_MAP_DATA	613584000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5556073
+SHUFFLE	COMPRESS_BYTE_COUNT	1706164
+SHUFFLE	COPY_MAP_DATA	8115080000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5519691
+SHUFFLE	COMPRESS_BYTE_COUNT	1695889
+SHUFFLE	COPY_MAP_DATA	897213000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5590823
+SHUFFLE	COMPRESS_BYTE_COUNT	1716199
+SHUFFLE	COPY_MAP_DATA	90653000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5506138
+SHUFFLE	COMPRESS_BYTE_COUNT	1690618
+SHUFFLE	COPY_MAP_DATA	88659000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5540307
+SHUFFLE	COMPRESS_BYTE_COUNT	1700322
+SHUFFLE	COPY_MAP_DATA	91431000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5517348
+SHUFFLE	COMPRESS_BYTE_COUNT	1694121
+SHUFFLE	COPY_MAP_DATA	1605467000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5561974
+SHUFFLE	COMPRESS_BYTE_COUNT	1706899
+SHUFFLE	COPY_MAP_DATA	158968000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5506094
+SHUFFLE	COMPRESS_BYTE_COUNT	1712123
+SHUFFLE	COPY_MAP_DATA	153475000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5520906
+SHUFFLE	COMPRESS_BYTE_COUNT	1694178
+SHUFFLE	COPY_MAP_DATA	82125000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5534537
+SHUFFLE	COMPRESS_BYTE_COUNT	1697988
+SHUFFLE	COPY_MAP_DATA	83196000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5528410
+SHUFFLE	COMPRESS_BYTE_COUNT	1695970
+SHUFFLE	COPY_MAP_DATA	117326000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5547784
+SHUFFLE	COMPRESS_BYTE_COUNT	1702993
+SHUFFLE	COPY_MAP_DATA	1157559000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5519349
+SHUFFLE	COMPRESS_BYTE_COUNT	1715957
+SHUFFLE	COPY_MAP_DATA	88263000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5579918
+SHUFFLE	COMPRESS_BYTE_COUNT	1712813
+SHUFFLE	COPY_MAP_DATA	111231000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5508169
+SHUFFLE	COMPRESS_BYTE_COUNT	1691295
+SHUFFLE	COPY_MAP_DATA	151713000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5569772
+SHUFFLE	COMPRESS_BYTE_COUNT	1709736
+SHUFFLE	COPY_MAP_DATA	1212915000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5597676
+SHUFFLE	COMPRESS_BYTE_COUNT	1718456
+SHUFFLE	COPY_MAP_DATA	128571000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5519759
+SHUFFLE	COMPRESS_BYTE_COUNT	1716469
+SHUFFLE	COPY_MAP_DATA	95262000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5562349
+SHUFFLE	COMPRESS_BYTE_COUNT	1705977
+SHUFFLE	COPY_MAP_DATA	2922267000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5563171
+SHUFFLE	COMPRESS_BYTE_COUNT	1707543
+SHUFFLE	COPY_MAP_DATA	119970000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5586941
+SHUFFLE	COMPRESS_BYTE_COUNT	1714112
+SHUFFLE	COPY_MAP_DATA	90211000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5596808
+SHUFFLE	COMPRESS_BYTE_COUNT	1717316
+SHUFFLE	COPY_MAP_DATA	120753000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5449647
+SHUFFLE	COMPRESS_BYTE_COUNT	1695640
+SHUFFLE	COPY_MAP_DATA	3622867000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5523999
+SHUFFLE	COMPRESS_BYTE_COUNT	1716584
+SHUFFLE	COPY_MAP_DATA	367124000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5555908
+SHUFFLE	COMPRESS_BYTE_COUNT	1727182
+SHUFFLE	COPY_MAP_DATA	2437937000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5563387
+SHUFFLE	COMPRESS_BYTE_COUNT	1708168
+SHUFFLE	COPY_MAP_DATA	1653567000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5458903
+SHUFFLE	COMPRESS_BYTE_COUNT	1696979
+SHUFFLE	COPY_MAP_DATA	230994000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5524299
+SHUFFLE	COMPRESS_BYTE_COUNT	1696323
+SHUFFLE	COPY_MAP_DATA	285052000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5550158
+SHUFFLE	COMPRESS_BYTE_COUNT	1703967
+SHUFFLE	COPY_MAP_DATA	89430000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5540748
+SHUFFLE	COMPRESS_BYTE_COUNT	1700393
+SHUFFLE	COPY_MAP_DATA	105831000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5554806
+SHUFFLE	COMPRESS_BYTE_COUNT	1725831
+SHUFFLE	COPY_MAP_DATA	115972000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5577103
+SHUFFLE	COMPRESS_BYTE_COUNT	1733910
+SHUFFLE	COPY_MAP_DATA	3369509000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5528177
+SHUFFLE	COMPRESS_BYTE_COUNT	1717685
+SHUFFLE	COPY_MAP_DATA	3571204000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5545069
+SHUFFLE	COMPRESS_BYTE_COUNT	1703183
+SHUFFLE	COPY_MAP_DATA	83756000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5526448
+SHUFFLE	COMPRESS_BYTE_COUNT	1718557
+SHUFFLE	COPY_MAP_DATA	260133000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5518014
+SHUFFLE	COMPRESS_BYTE_COUNT	1693562
+SHUFFLE	COPY_MAP_DATA	517268000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5508142
+SHUFFLE	COMPRESS_BYTE_COUNT	1712179
+SHUFFLE	COPY_MAP_DATA	416496000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5507847
+SHUFFLE	COMPRESS_BYTE_COUNT	1710978
+SHUFFLE	COPY_MAP_DATA	1877261000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5527226
+SHUFFLE	COMPRESS_BYTE_COUNT	1718435
+SHUFFLE	COPY_MAP_DATA	91606000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5507464
+SHUFFLE	COMPRESS_BYTE_COUNT	1712737
+SHUFFLE	COPY_MAP_DATA	238215000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5546063
+SHUFFLE	COMPRESS_BYTE_COUNT	1723107
+SHUFFLE	COPY_MAP_DATA	115414000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5554113
+SHUFFLE	COMPRESS_BYTE_COUNT	1725212
+SHUFFLE	COPY_MAP_DATA	90052000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5563693
+SHUFFLE	COMPRESS_BYTE_COUNT	1707829
+SHUFFLE	COPY_MAP_DATA	280006000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5529010
+SHUFFLE	COMPRESS_BYTE_COUNT	1718836
+SHUFFLE	COPY_MAP_DATA	2249606000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5529604
+SHUFFLE	COMPRESS_BYTE_COUNT	1717917
+SHUFFLE	COPY_MAP_DATA	1376889000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5499658
+SHUFFLE	COMPRESS_BYTE_COUNT	1708940
+SHUFFLE	COPY_MAP_DATA	123544000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5530310
+SHUFFLE	COMPRESS_BYTE_COUNT	1717961
+SHUFFLE	COPY_MAP_DATA	270833000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5503884
+SHUFFLE	COMPRESS_BYTE_COUNT	1710872
+SHUFFLE	COPY_MAP_DATA	145303000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5504837
+SHUFFLE	COMPRESS_BYTE_COUNT	1711599
+SHUFFLE	COPY_MAP_DATA	380580000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5551326
+SHUFFLE	COMPRESS_BYTE_COUNT	1729553
+SHUFFLE	COPY_MAP_DATA	121430000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5489928
+SHUFFLE	COMPRESS_BYTE_COUNT	1706654
+SHUFFLE	COPY_MAP_DATA	109471000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5488254
+SHUFFLE	COMPRESS_BYTE_COUNT	1704420
+SHUFFLE	COPY_MAP_DATA	92116000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5503850
+SHUFFLE	COMPRESS_BYTE_COUNT	1710633
+SHUFFLE	COPY_MAP_DATA	129528000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5537335
+SHUFFLE	COMPRESS_BYTE_COUNT	1720166
+SHUFFLE	COPY_MAP_DATA	89780000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5554182
+SHUFFLE	COMPRESS_BYTE_COUNT	1730211
+SHUFFLE	COPY_MAP_DATA	269541000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5454530
+SHUFFLE	COMPRESS_BYTE_COUNT	1696221
+SHUFFLE	COPY_MAP_DATA	139415000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5530544
+SHUFFLE	COMPRESS_BYTE_COUNT	1718687
+SHUFFLE	COPY_MAP_DATA	89259000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5479589
+SHUFFLE	COMPRESS_BYTE_COUNT	1703733
+SHUFFLE	COPY_MAP_DATA	1004251000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5540186
+SHUFFLE	COMPRESS_BYTE_COUNT	1727157
+SHUFFLE	COPY_MAP_DATA	622121000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5508770
+SHUFFLE	COMPRESS_BYTE_COUNT	1713230
+SHUFFLE	COPY_MAP_DATA	1124966000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5562159
+SHUFFLE	COMPRESS_BYTE_COUNT	1728043
+SHUFFLE	COPY_MAP_DATA	207245000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5481134
+SHUFFLE	COMPRESS_BYTE_COUNT	1703872
+SHUFFLE	COPY_MAP_DATA	665280000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5558761
+SHUFFLE	COMPRESS_BYTE_COUNT	1730130
+SHUFFLE	COPY_MAP_DATA	443131000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5556625
+SHUFFLE	COMPRESS_BYTE_COUNT	1730263
+SHUFFLE	COPY_MAP_DATA	133095000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5527546
+SHUFFLE	COMPRESS_BYTE_COUNT	1739028
+SHUFFLE	COPY_MAP_DATA	224498000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5532203
+SHUFFLE	COMPRESS_BYTE_COUNT	1720500
+SHUFFLE	COPY_MAP_DATA	309269000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5514723
+SHUFFLE	COMPRESS_BYTE_COUNT	1714198
+SHUFFLE	COPY_MAP_DATA	264329000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5563344
+SHUFFLE	COMPRESS_BYTE_COUNT	1732230
+SHUFFLE	COPY_MAP_DATA	191259000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5551205
+SHUFFLE	COMPRESS_BYTE_COUNT	1727460
+SHUFFLE	COPY_MAP_DATA	101736000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5609894
+SHUFFLE	COMPRESS_BYTE_COUNT	1731744
+SHUFFLE	COPY_MAP_DATA	3216683000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5509488
+SHUFFLE	COMPRESS_BYTE_COUNT	1747545
+SHUFFLE	COPY_MAP_DATA	90489000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5589762
+SHUFFLE	COMPRESS_BYTE_COUNT	1726183
+SHUFFLE	COPY_MAP_DATA	1862778000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4750105
+SHUFFLE	COMPRESS_BYTE_COUNT	1458412
+SHUFFLE	COPY_MAP_DATA	1199701000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4761141
+SHUFFLE	COMPRESS_BYTE_COUNT	1460434
+SHUFFLE	COPY_MAP_DATA	170841000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5602134
+SHUFFLE	COMPRESS_BYTE_COUNT	1729775
+SHUFFLE	COPY_MAP_DATA	203982000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4491570
+SHUFFLE	COMPRESS_BYTE_COUNT	1395306
+SHUFFLE	COPY_MAP_DATA	98073000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5603526
+SHUFFLE	COMPRESS_BYTE_COUNT	1729223
+SHUFFLE	COPY_MAP_DATA	90157000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5599656
+SHUFFLE	COMPRESS_BYTE_COUNT	1728797
+SHUFFLE	COPY_MAP_DATA	1500561000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4458063
+SHUFFLE	COMPRESS_BYTE_COUNT	1386130
+SHUFFLE	COPY_MAP_DATA	111436000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5589777
+SHUFFLE	COMPRESS_BYTE_COUNT	1725276
+SHUFFLE	COPY_MAP_DATA	94274000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4755452
+SHUFFLE	COMPRESS_BYTE_COUNT	1459524
+SHUFFLE	COPY_MAP_DATA	129321000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5586060
+SHUFFLE	COMPRESS_BYTE_COUNT	1724894
+SHUFFLE	COPY_MAP_DATA	132817000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5587516
+SHUFFLE	COMPRESS_BYTE_COUNT	1724633
+SHUFFLE	COPY_MAP_DATA	171543000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4804199
+SHUFFLE	COMPRESS_BYTE_COUNT	1475011
+SHUFFLE	COPY_MAP_DATA	77699000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5551245
+SHUFFLE	COMPRESS_BYTE_COUNT	1729378
+SHUFFLE	COPY_MAP_DATA	751448000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5591682
+SHUFFLE	COMPRESS_BYTE_COUNT	1725344
+SHUFFLE	COPY_MAP_DATA	716225000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5600346
+SHUFFLE	COMPRESS_BYTE_COUNT	1729534
+SHUFFLE	COPY_MAP_DATA	128988000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5592662
+SHUFFLE	COMPRESS_BYTE_COUNT	1726652
+SHUFFLE	COPY_MAP_DATA	512592000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4731529
+SHUFFLE	COMPRESS_BYTE_COUNT	1452727
+SHUFFLE	COPY_MAP_DATA	320228000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4734309
+SHUFFLE	COMPRESS_BYTE_COUNT	1453381
+SHUFFLE	COPY_MAP_DATA	363567000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4798748
+SHUFFLE	COMPRESS_BYTE_COUNT	1471971
+SHUFFLE	COPY_MAP_DATA	550076000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5586659
+SHUFFLE	COMPRESS_BYTE_COUNT	1723644
+SHUFFLE	COPY_MAP_DATA	106031000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5563065
+SHUFFLE	COMPRESS_BYTE_COUNT	1732702
+SHUFFLE	COPY_MAP_DATA	85078000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5552896
+SHUFFLE	COMPRESS_BYTE_COUNT	1729788
+SHUFFLE	COPY_MAP_DATA	174012000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5566100
+SHUFFLE	COMPRESS_BYTE_COUNT	1732903
+SHUFFLE	COPY_MAP_DATA	1941321000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1738646
+SHUFFLE	COMPRESS_BYTE_COUNT	537198
+SHUFFLE	COPY_MAP_DATA	564125000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5555694
+SHUFFLE	COMPRESS_BYTE_COUNT	1730330
+SHUFFLE	COPY_MAP_DATA	218149000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5563381
+SHUFFLE	COMPRESS_BYTE_COUNT	1732803
+SHUFFLE	COPY_MAP_DATA	146513000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4758389
+SHUFFLE	COMPRESS_BYTE_COUNT	1460707
+SHUFFLE	COPY_MAP_DATA	71605000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4696133
+SHUFFLE	COMPRESS_BYTE_COUNT	1442230
+SHUFFLE	COPY_MAP_DATA	74705000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5536651
+SHUFFLE	COMPRESS_BYTE_COUNT	1724842
+SHUFFLE	COPY_MAP_DATA	89331000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4477536
+SHUFFLE	COMPRESS_BYTE_COUNT	1392994
+SHUFFLE	COPY_MAP_DATA	83417000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4436535
+SHUFFLE	COMPRESS_BYTE_COUNT	1380288
+SHUFFLE	COPY_MAP_DATA	124021000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4436182
+SHUFFLE	COMPRESS_BYTE_COUNT	1379598
+SHUFFLE	COPY_MAP_DATA	78169000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4449914
+SHUFFLE	COMPRESS_BYTE_COUNT	1382480
+SHUFFLE	COPY_MAP_DATA	8409806000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4286450
+SHUFFLE	COMPRESS_BYTE_COUNT	1332472
+SHUFFLE	COPY_MAP_DATA	69255000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5598882
+SHUFFLE	COMPRESS_BYTE_COUNT	1728128
+SHUFFLE	COPY_MAP_DATA	138360000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1671924
+SHUFFLE	COMPRESS_BYTE_COUNT	520613
+SHUFFLE	COPY_MAP_DATA	28433000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1739752
+SHUFFLE	COMPRESS_BYTE_COUNT	537189
+SHUFFLE	COPY_MAP_DATA	4920448000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1745510
+SHUFFLE	COMPRESS_BYTE_COUNT	539580
+SHUFFLE	COPY_MAP_DATA	30578000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1744040
+SHUFFLE	COMPRESS_BYTE_COUNT	539353
+SHUFFLE	COPY_MAP_DATA	78204000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1749305
+SHUFFLE	COMPRESS_BYTE_COUNT	540500
+SHUFFLE	COPY_MAP_DATA	52484000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1733913
+SHUFFLE	COMPRESS_BYTE_COUNT	535929
+SHUFFLE	COPY_MAP_DATA	29318000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4709875
+SHUFFLE	COMPRESS_BYTE_COUNT	1445883
+SHUFFLE	COPY_MAP_DATA	137779000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4464520
+SHUFFLE	COMPRESS_BYTE_COUNT	1387341
+SHUFFLE	COPY_MAP_DATA	72807000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5551884
+SHUFFLE	COMPRESS_BYTE_COUNT	1729127
+SHUFFLE	COPY_MAP_DATA	103872000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1742733
+SHUFFLE	COMPRESS_BYTE_COUNT	538495
+SHUFFLE	COPY_MAP_DATA	829877000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1741482
+SHUFFLE	COMPRESS_BYTE_COUNT	537649
+SHUFFLE	COPY_MAP_DATA	37702000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1662599
+SHUFFLE	COMPRESS_BYTE_COUNT	519088
+SHUFFLE	COPY_MAP_DATA	126305000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1655176
+SHUFFLE	COMPRESS_BYTE_COUNT	516163
+SHUFFLE	COPY_MAP_DATA	39212000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4435575
+SHUFFLE	COMPRESS_BYTE_COUNT	1378549
+SHUFFLE	COPY_MAP_DATA	2285812000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1737559
+SHUFFLE	COMPRESS_BYTE_COUNT	537029
+SHUFFLE	COPY_MAP_DATA	38188000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1665572
+SHUFFLE	COMPRESS_BYTE_COUNT	519787
+SHUFFLE	COPY_MAP_DATA	27684000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1666787
+SHUFFLE	COMPRESS_BYTE_COUNT	520016
+SHUFFLE	COPY_MAP_DATA	27883000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4560072
+SHUFFLE	COMPRESS_BYTE_COUNT	1399709
+SHUFFLE	COPY_MAP_DATA	337234000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4736675
+SHUFFLE	COMPRESS_BYTE_COUNT	1454752
+SHUFFLE	COPY_MAP_DATA	71849000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4480692
+SHUFFLE	COMPRESS_BYTE_COUNT	1393199
+SHUFFLE	COPY_MAP_DATA	326403000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1663501
+SHUFFLE	COMPRESS_BYTE_COUNT	518561
+SHUFFLE	COPY_MAP_DATA	172301000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4745747
+SHUFFLE	COMPRESS_BYTE_COUNT	1456126
+SHUFFLE	COPY_MAP_DATA	76818000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1661842
+SHUFFLE	COMPRESS_BYTE_COUNT	518858
+SHUFFLE	COPY_MAP_DATA	27165000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4482994
+SHUFFLE	COMPRESS_BYTE_COUNT	1393662
+SHUFFLE	COPY_MAP_DATA	69008000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1666808
+SHUFFLE	COMPRESS_BYTE_COUNT	520371
+SHUFFLE	COPY_MAP_DATA	90331000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4426615
+SHUFFLE	COMPRESS_BYTE_COUNT	1376273
+SHUFFLE	COPY_MAP_DATA	67093000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4169402
+SHUFFLE	COMPRESS_BYTE_COUNT	1312809
+SHUFFLE	COPY_MAP_DATA	73673000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1662790
+SHUFFLE	COMPRESS_BYTE_COUNT	518508
+SHUFFLE	COPY_MAP_DATA	37201000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4469636
+SHUFFLE	COMPRESS_BYTE_COUNT	1389082
+SHUFFLE	COPY_MAP_DATA	158112000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1740584
+SHUFFLE	COMPRESS_BYTE_COUNT	537569
+SHUFFLE	COPY_MAP_DATA	510926000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4460156
+SHUFFLE	COMPRESS_BYTE_COUNT	1386041
+SHUFFLE	COPY_MAP_DATA	310173000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4715586
+SHUFFLE	COMPRESS_BYTE_COUNT	1447685
+SHUFFLE	COPY_MAP_DATA	313786000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1732167
+SHUFFLE	COMPRESS_BYTE_COUNT	535648
+SHUFFLE	COPY_MAP_DATA	287923000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1733090
+SHUFFLE	COMPRESS_BYTE_COUNT	535343
+SHUFFLE	COPY_MAP_DATA	47187000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1671238
+SHUFFLE	COMPRESS_BYTE_COUNT	521071
+SHUFFLE	COPY_MAP_DATA	28496000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1735115
+SHUFFLE	COMPRESS_BYTE_COUNT	536694
+SHUFFLE	COPY_MAP_DATA	36873000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1579378
+SHUFFLE	COMPRESS_BYTE_COUNT	498812
+SHUFFLE	COPY_MAP_DATA	46391000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1687875
+SHUFFLE	COMPRESS_BYTE_COUNT	521992
+SHUFFLE	COPY_MAP_DATA	29492000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1670979
+SHUFFLE	COMPRESS_BYTE_COUNT	520756
+SHUFFLE	COPY_MAP_DATA	28869000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1662869
+SHUFFLE	COMPRESS_BYTE_COUNT	518014
+SHUFFLE	COPY_MAP_DATA	28302000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1667736
+SHUFFLE	COMPRESS_BYTE_COUNT	520466
+SHUFFLE	COPY_MAP_DATA	28942000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1622713
+SHUFFLE	COMPRESS_BYTE_COUNT	506295
+SHUFFLE	COPY_MAP_DATA	27810000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1664852
+SHUFFLE	COMPRESS_BYTE_COUNT	519543
+SHUFFLE	COPY_MAP_DATA	123108000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4454062
+SHUFFLE	COMPRESS_BYTE_COUNT	1383938
+SHUFFLE	COPY_MAP_DATA	71726000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	453848141000
+MERGE	READ_WRITE	440145785000
+MERGE	READ_WRITE_COUNT	8
+MERGE	COMBINE	0
+MERGE	WRITE	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	7065359000
+SORT	READ_WRITE	6998037000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	198204408
+REDUCE	SETUP	428000
+REDUCE	SETUP_MEM	198204408
+REDUCE	CLEANUP	37000
+REDUCE	CLEANUP_MEM	216112368
+REDUCE	TOTAL_RUN	449669238432
+REDUCE	READ	8110433000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	432223075432
+REDUCE	WRITE	232943960432
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	55903079
+REDUCE	VALUE_BYTE_COUNT	1648498451
+REDUCE	REDUCE_MEM	216112368
+REDUCE	WRITE	45411000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	1127079029432
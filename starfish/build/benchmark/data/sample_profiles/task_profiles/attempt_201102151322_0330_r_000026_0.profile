@@ -0,0 +1,989 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5484823
+SHUFFLE	COMPRESS_BYTE_COUNT	1705591
+SHUFFLE	COPY_MAP_DATA	294314000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5554487
+SHUFFLE	COMPRESS_BYTE_COUNT	1726248
+SHUFFLE	COPY_MAP_DATA	650615000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5478887
+SHUFFLE	COMPRESS_BYTE_COUNT	1725523
+SHUFFLE	COPY_MAP_DATA	186507000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5511740
+SHUFFLE	COMPRESS_BYTE_COUNT	1712818
+SHUFFLE	COPY_MAP_DATA	404013000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5496597
+SHUFFLE	COMPRESS_BYTE_COUNT	1706809
+SHUFFLE	COPY_MAP_DATA	196970000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5502111
+SHUFFLE	COMPRESS_BYTE_COUNT	1709859
+SHUFFLE	COPY_MAP_DATA	377105000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5525115
+SHUFFLE	COMPRESS_BYTE_COUNT	1717994
+SHUFFLE	COPY_MAP_DATA	317826000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5486309
+SHUFFLE	COMPRESS_BYTE_COUNT	1706095
+SHUFFLE	COPY_MAP_DATA	284353000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5504917
+SHUFFLE	COMPRESS_BYTE_COUNT	1711408
+SHUFFLE	COPY_MAP_DATA	187721000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5528518
+SHUFFLE	COMPRESS_BYTE_COUNT	1718120
+SHUFFLE	COPY_MAP_DATA	229254000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5513875
+SHUFFLE	COMPRESS_BYTE_COUNT	1714329
+SHUFFLE	COPY_MAP_DATA	307370000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5471670
+SHUFFLE	COMPRESS_BYTE_COUNT	1699231
+SHUFFLE	COPY_MAP_DATA	192516000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5510831
+SHUFFLE	COMPRESS_BYTE_COUNT	1733721
+SHUFFLE	COPY_MAP_DATA	193356000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5497530
+SHUFFLE	COMPRESS_BYTE_COUNT	1709427
+SHUFFLE	COPY_MAP_DATA	335958000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5528812
+SHUFFLE	COMPRESS_BYTE_COUNT	1697307
+SHUFFLE	COPY_MAP_DATA	205680000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5511769
+SHUFFLE	COMPRESS_BYTE_COUNT	1712577
+SHUFFLE	COPY_MAP_DATA	487606000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5478677
+SHUFFLE	COMPRESS_BYTE_COUNT	1702819
+SHUFFLE	COPY_MAP_DATA	636330000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5516117
+SHUFFLE	COMPRESS_BYTE_COUNT	1714243
+SHUFFLE	COPY_MAP_DATA	1348651000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5563061
+SHUFFLE	COMPRESS_BYTE_COUNT	1729162
+SHUFFLE	COPY_MAP_DATA	270694000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5461783
+SHUFFLE	COMPRESS_BYTE_COUNT	1696514
+SHUFFLE	COPY_MAP_DATA	217003000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5496765
+SHUFFLE	COMPRESS_BYTE_COUNT	1730768
+SHUFFLE	COPY_MAP_DATA	112769000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5520202
+SHUFFLE	COMPRESS_BYTE_COUNT	1714581
+SHUFFLE	COPY_MAP_DATA	277734000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5497068
+SHUFFLE	COMPRESS_BYTE_COUNT	1708630
+SHUFFLE	COPY_MAP_DATA	88324000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5493339
+SHUFFLE	COMPRESS_BYTE_COUNT	1708017
+SHUFFLE	COPY_MAP_DATA	101191000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5452723
+SHUFFLE	COMPRESS_BYTE_COUNT	1716851
+SHUFFLE	COPY_MAP_DATA	147986000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5526094
+SHUFFLE	COMPRESS_BYTE_COUNT	1718349
+SHUFFLE	COPY_MAP_DATA	517551000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5468350
+SHUFFLE	COMPRESS_BYTE_COUNT	1700581
+SHUFFLE	COPY_MAP_DATA	934830000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5554598
+SHUFFLE	COMPRESS_BYTE_COUNT	1727980
+SHUFFLE	COPY_MAP_DATA	106209000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5509650
+SHUFFLE	COMPRESS_BYTE_COUNT	1712807
+SHUFFLE	COPY_MAP_DATA	185605000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5393836
+SHUFFLE	COMPRESS_BYTE_COUNT	1725036
+SHUFFLE	COPY_MAP_DATA	94811000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5513523
+SHUFFLE	COMPRESS_BYTE_COUNT	1713813
+SHUFFLE	COPY_MAP_DATA	134783000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5574988
+SHUFFLE	COMPRESS_BYTE_COUNT	1711272
+SHUFFLE	COPY_MAP_DATA	97215000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5633158
+SHUFFLE	COMPRESS_BYTE_COUNT	1728866
+SHUFFLE	COPY_MAP_DATA	161373000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5509070
+SHUFFLE	COMPRESS_BYTE_COUNT	1712350
+SHUFFLE	COPY_MAP_DATA	285433000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5478900
+SHUFFLE	COMPRESS_BYTE_COUNT	1702406
+SHUFFLE	COPY_MAP_DATA	83346000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5532101
+SHUFFLE	COMPRESS_BYTE_COUNT	1719947
+SHUFFLE	COPY_MAP_DATA	90983000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5568937
+SHUFFLE	COMPRESS_BYTE_COUNT	1709161
+SHUFFLE	COPY_MAP_DATA	191912000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5468714
+SHUFFLE	COMPRESS_BYTE_COUNT	1700200
+SHUFFLE	COPY_MAP_DATA	88034000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5585730
+SHUFFLE	COMPRESS_BYTE_COUNT	1735136
+SHUFFLE	COPY_MAP_DATA	299777000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5487785
+SHUFFLE	COMPRESS_BYTE_COUNT	1728040
+SHUFFLE	COPY_MAP_DATA	91569000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5502728
+SHUFFLE	COMPRESS_BYTE_COUNT	1710541
+SHUFFLE	COPY_MAP_DATA	166926000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5468560
+SHUFFLE	COMPRESS_BYTE_COUNT	1700032
+SHUFFLE	COPY_MAP_DATA	2578143000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5576836
+SHUFFLE	COMPRESS_BYTE_COUNT	1710889
+SHUFFLE	COPY_MAP_DATA	87476000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5501343
+SHUFFLE	COMPRESS_BYTE_COUNT	1710503
+SHUFFLE	COPY_MAP_DATA	82986000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5555979
+SHUFFLE	COMPRESS_BYTE_COUNT	1703416
+SHUFFLE	COPY_MAP_DATA	363723000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5536151
+SHUFFLE	COMPRESS_BYTE_COUNT	1720293
+SHUFFLE	COPY_MAP_DATA	450222000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5513858
+SHUFFLE	COMPRESS_BYTE_COUNT	1691271
+SHUFFLE	COPY_MAP_DATA	576516000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5552076
+SHUFFLE	COMPRESS_BYTE_COUNT	1725021
+SHUFFLE	COPY_MAP_DATA	761194000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5512457
+SHUFFLE	COMPRESS_BYTE_COUNT	1713608
+SHUFFLE	COPY_MAP_DATA	537471000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5541397
+SHUFFLE	COMPRESS_BYTE_COUNT	1699819
+SHUFFLE	COPY_MAP_DATA	123650000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5505572
+SHUFFLE	COMPRESS_BYTE_COUNT	1710975
+SHUFFLE	COPY_MAP_DATA	1025355000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5610962
+SHUFFLE	COMPRESS_BYTE_COUNT	1722293
+SHUFFLE	COPY_MAP_DATA	182255000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5488460
+SHUFFLE	COMPRESS_BYTE_COUNT	1707351
+SHUFFLE	COPY_MAP_DATA	7566056000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5547102
+SHUFFLE	COMPRESS_BYTE_COUNT	1702496
+SHUFFLE	COPY_MAP_DATA	89165000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5517606
+SHUFFLE	COMPRESS_BYTE_COUNT	1693344
+SHUFFLE	COPY_MAP_DATA	643471000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5516949
+SHUFFLE	COMPRESS_BYTE_COUNT	1711452
+SHUFFLE	COPY_MAP_DATA	362867000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5471690
+SHUFFLE	COMPRESS_BYTE_COUNT	1701307
+SHUFFLE	COPY_MAP_DATA	1330399000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5493815
+SHUFFLE	COMPRESS_BYTE_COUNT	1686078
+SHUFFLE	COPY_MAP_DATA	881438000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5572119
+SHUFFLE	COMPRESS_BYTE_COUNT	1711692
+SHUFFLE	COPY_MAP_DATA	539389000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5585113
+SHUFFLE	COMPRESS_BYTE_COUNT	1713881
+SHUFFLE	COPY_MAP_DATA	148114000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5575407
+SHUFFLE	COMPRESS_BYTE_COUNT	1711282
+SHUFFLE	COPY_MAP_DATA	294578000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5521444
+SHUFFLE	COMPRESS_BYTE_COUNT	1695106
+SHUFFLE	COPY_MAP_DATA	8018547000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5552548
+SHUFFLE	COMPRESS_BYTE_COUNT	1704294
+SHUFFLE	COPY_MAP_DATA	91776000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5564095
+SHUFFLE	COMPRESS_BYTE_COUNT	1707514
+SHUFFLE	COPY_MAP_DATA	90111000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5520364
+SHUFFLE	COMPRESS_BYTE_COUNT	1694501
+SHUFFLE	COPY_MAP_DATA	296591000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5519901
+SHUFFLE	COMPRESS_BYTE_COUNT	1694678
+SHUFFLE	COPY_MAP_DATA	87313000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5631351
+SHUFFLE	COMPRESS_BYTE_COUNT	1727260
+SHUFFLE	COPY_MAP_DATA	90656000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5523864
+SHUFFLE	COMPRESS_BYTE_COUNT	1739430
+SHUFFLE	COPY_MAP_DATA	597569000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5499319
+SHUFFLE	COMPRESS_BYTE_COUNT	1727928
+SHUFFLE	COPY_MAP_DATA	207343000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5564771
+SHUFFLE	COMPRESS_BYTE_COUNT	1708489
+SHUFFLE	COPY_MAP_DATA	86910000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5562631
+SHUFFLE	COMPRESS_BYTE_COUNT	1707619
+SHUFFLE	COPY_MAP_DATA	149707000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5576194
+SHUFFLE	COMPRESS_BYTE_COUNT	1711537
+SHUFFLE	COPY_MAP_DATA	264692000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5525859
+SHUFFLE	COMPRESS_BYTE_COUNT	1696270
+SHUFFLE	COPY_MAP_DATA	440890000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5535952
+SHUFFLE	COMPRESS_BYTE_COUNT	1698993
+SHUFFLE	COPY_MAP_DATA	419313000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5520892
+SHUFFLE	COMPRESS_BYTE_COUNT	1696461
+SHUFFLE	COPY_MAP_DATA	102722000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5502647
+SHUFFLE	COMPRESS_BYTE_COUNT	1690331
+SHUFFLE	COPY_MAP_DATA	104997000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5528795
+SHUFFLE	COMPRESS_BYTE_COUNT	1697072
+SHUFFLE	COPY_MAP_DATA	88612000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5505672
+SHUFFLE	COMPRESS_BYTE_COUNT	1689724
+SHUFFLE	COPY_MAP_DATA	150103000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5542043
+SHUFFLE	COMPRESS_BYTE_COUNT	1702118
+SHUFFLE	COPY_MAP_DATA	446172000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5556889
+SHUFFLE	COMPRESS_BYTE_COUNT	1704625
+SHUFFLE	COPY_MAP_DATA	312793000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5555044
+SHUFFLE	COMPRESS_BYTE_COUNT	1705151
+SHUFFLE	COPY_MAP_DATA	128203000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5541862
+SHUFFLE	COMPRESS_BYTE_COUNT	1701016
+SHUFFLE	COPY_MAP_DATA	223557000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5525483
+SHUFFLE	COMPRESS_BYTE_COUNT	1739227
+SHUFFLE	COPY_MAP_DATA	123470000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5613180
+SHUFFLE	COMPRESS_BYTE_COUNT	1722813
+SHUFFLE	COPY_MAP_DATA	234750000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5557231
+SHUFFLE	COMPRESS_BYTE_COUNT	1706044
+SHUFFLE	COPY_MAP_DATA	90584000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5543905
+SHUFFLE	COMPRESS_BYTE_COUNT	1702625
+SHUFFLE	COPY_MAP_DATA	84207000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5533319
+SHUFFLE	COMPRESS_BYTE_COUNT	1698378
+SHUFFLE	COPY_MAP_DATA	99910000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5571018
+SHUFFLE	COMPRESS_BYTE_COUNT	1710064
+SHUFFLE	COPY_MAP_DATA	167740000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5546500
+SHUFFLE	COMPRESS_BYTE_COUNT	1703026
+SHUFFLE	COPY_MAP_DATA	6811760000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5603834
+SHUFFLE	COMPRESS_BYTE_COUNT	1720017
+SHUFFLE	COPY_MAP_DATA	437494000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5548050
+SHUFFLE	COMPRESS_BYTE_COUNT	1701706
+SHUFFLE	COPY_MAP_DATA	119873000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5536339
+SHUFFLE	COMPRESS_BYTE_COUNT	1699622
+SHUFFLE	COPY_MAP_DATA	87227000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5541928
+SHUFFLE	COMPRESS_BYTE_COUNT	1701524
+SHUFFLE	COPY_MAP_DATA	156507000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5531483
+SHUFFLE	COMPRESS_BYTE_COUNT	1698007
+SHUFFLE	COPY_MAP_DATA	212290000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5501311
+SHUFFLE	COMPRESS_BYTE_COUNT	1687983
+SHUFFLE	COPY_MAP_DATA	151765000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5543206
+SHUFFLE	COMPRESS_BYTE_COUNT	1701073
+SHUFFLE	COPY_MAP_DATA	251023000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5516440
+SHUFFLE	COMPRESS_BYTE_COUNT	1714208
+SHUFFLE	COPY_MAP_DATA	509272000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5545409
+SHUFFLE	COMPRESS_BYTE_COUNT	1701571
+SHUFFLE	COPY_MAP_DATA	88191000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5530350
+SHUFFLE	COMPRESS_BYTE_COUNT	1697063
+SHUFFLE	COPY_MAP_DATA	185605000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5504050
+SHUFFLE	COMPRESS_BYTE_COUNT	1711134
+SHUFFLE	COPY_MAP_DATA	89619000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5567346
+SHUFFLE	COMPRESS_BYTE_COUNT	1708584
+SHUFFLE	COPY_MAP_DATA	127052000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5575641
+SHUFFLE	COMPRESS_BYTE_COUNT	1711725
+SHUFFLE	COPY_MAP_DATA	105778000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5585850
+SHUFFLE	COMPRESS_BYTE_COUNT	1713234
+SHUFFLE	COPY_MAP_DATA	178317000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5540110
+SHUFFLE	COMPRESS_BYTE_COUNT	1701255
+SHUFFLE	COPY_MAP_DATA	98445000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5563533
+SHUFFLE	COMPRESS_BYTE_COUNT	1707939
+SHUFFLE	COPY_MAP_DATA	115176000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5551326
+SHUFFLE	COMPRESS_BYTE_COUNT	1703793
+SHUFFLE	COPY_MAP_DATA	505418000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5555620
+SHUFFLE	COMPRESS_BYTE_COUNT	1725437
+SHUFFLE	COPY_MAP_DATA	210154000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5542715
+SHUFFLE	COMPRESS_BYTE_COUNT	1701478
+SHUFFLE	COPY_MAP_DATA	95501000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5586560
+SHUFFLE	COMPRESS_BYTE_COUNT	1714572
+SHUFFLE	COPY_MAP_DATA	622096000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5546448
+SHUFFLE	COMPRESS_BYTE_COUNT	1701393
+SHUFFLE	COPY_MAP_DATA	247549000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5462472
+SHUFFLE	COMPRESS_BYTE_COUNT	1698652
+SHUFFLE	COPY_MAP_DATA	614553000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5555015
+SHUFFLE	COMPRESS_BYTE_COUNT	1705290
+SHUFFLE	COPY_MAP_DATA	293497000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5544962
+SHUFFLE	COMPRESS_BYTE_COUNT	1723058
+SHUFFLE	COPY_MAP_DATA	131104000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5527377
+SHUFFLE	COMPRESS_BYTE_COUNT	1716996
+SHUFFLE	COPY_MAP_DATA	89428000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5522373
+SHUFFLE	COMPRESS_BYTE_COUNT	1695152
+SHUFFLE	COPY_MAP_DATA	203401000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5475008
+SHUFFLE	COMPRESS_BYTE_COUNT	1701877
+SHUFFLE	COPY_MAP_DATA	164558000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5608589
+SHUFFLE	COMPRESS_BYTE_COUNT	1721324
+SHUFFLE	COPY_MAP_DATA	105477000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5581711
+SHUFFLE	COMPRESS_BYTE_COUNT	1713683
+SHUFFLE	COPY_MAP_DATA	92469000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5526420
+SHUFFLE	COMPRESS_BYTE_COUNT	1696820
+SHUFFLE	COPY_MAP_DATA	173358000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5525791
+SHUFFLE	COMPRESS_BYTE_COUNT	1716909
+SHUFFLE	COPY_MAP_DATA	170886000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5510006
+SHUFFLE	COMPRESS_BYTE_COUNT	1712053
+SHUFFLE	COPY_MAP_DATA	2557075000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5544454
+SHUFFLE	COMPRESS_BYTE_COUNT	1702089
+SHUFFLE	COPY_MAP_DATA	90542000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5509341
+SHUFFLE	COMPRESS_BYTE_COUNT	1712117
+SHUFFLE	COPY_MAP_DATA	473028000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5619458
+SHUFFLE	COMPRESS_BYTE_COUNT	1724745
+SHUFFLE	COPY_MAP_DATA	1938810000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5487622
+SHUFFLE	COMPRESS_BYTE_COUNT	1706254
+SHUFFLE	COPY_MAP_DATA	654009000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5525363
+SHUFFLE	COMPRESS_BYTE_COUNT	1717531
+SHUFFLE	COPY_MAP_DATA	103498000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5551917
+SHUFFLE	COMPRESS_BYTE_COUNT	1725672
+SHUFFLE	COPY_MAP_DATA	101494000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5505323
+SHUFFLE	COMPRESS_BYTE_COUNT	1710584
+SHUFFLE	COPY_MAP_DATA	208296000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5545746
+SHUFFLE	COMPRESS_BYTE_COUNT	1723269
+SHUFFLE	COPY_MAP_DATA	161594000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5530574
+SHUFFLE	COMPRESS_BYTE_COUNT	1719585
+SHUFFLE	COPY_MAP_DATA	116087000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5531506
+SHUFFLE	COMPRESS_BYTE_COUNT	1719369
+SHUFFLE	COPY_MAP_DATA	250844000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5549285
+SHUFFLE	COMPRESS_BYTE_COUNT	1703951
+SHUFFLE	COPY_MAP_DATA	89881000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5550650
+SHUFFLE	COMPRESS_BYTE_COUNT	1725169
+SHUFFLE	COPY_MAP_DATA	89758000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5544134
+SHUFFLE	COMPRESS_BYTE_COUNT	1723098
+SHUFFLE	COPY_MAP_DATA	121678000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5529149
+SHUFFLE	COMPRESS_BYTE_COUNT	1718582
+SHUFFLE	COPY_MAP_DATA	203632000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5554237
+SHUFFLE	COMPRESS_BYTE_COUNT	1726169
+SHUFFLE	COPY_MAP_DATA	156233000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5473498
+SHUFFLE	COMPRESS_BYTE_COUNT	1700720
+SHUFFLE	COPY_MAP_DATA	88351000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5534528
+SHUFFLE	COMPRESS_BYTE_COUNT	1718635
+SHUFFLE	COPY_MAP_DATA	131782000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5513289
+SHUFFLE	COMPRESS_BYTE_COUNT	1713350
+SHUFFLE	COPY_MAP_DATA	94616000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5555277
+SHUFFLE	COMPRESS_BYTE_COUNT	1731876
+SHUFFLE	COPY_MAP_DATA	610999000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5524835
+SHUFFLE	COMPRESS_BYTE_COUNT	1716266
+SHUFFLE	COPY_MAP_DATA	198654000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5408765
+SHUFFLE	COMPRESS_BYTE_COUNT	1682749
+SHUFFLE	COPY_MAP_DATA	87351000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5497598
+SHUFFLE	COMPRESS_BYTE_COUNT	1708462
+SHUFFLE	COPY_MAP_DATA	371656000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5471060
+SHUFFLE	COMPRESS_BYTE_COUNT	1701119
+SHUFFLE	COPY_MAP_DATA	87513000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5513770
+SHUFFLE	COMPRESS_BYTE_COUNT	1712777
+SHUFFLE	COPY_MAP_DATA	91771000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5548690
+SHUFFLE	COMPRESS_BYTE_COUNT	1728355
+SHUFFLE	COPY_MAP_DATA	164169000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5476173
+SHUFFLE	COMPRESS_BYTE_COUNT	1703337
+SHUFFLE	COPY_MAP_DATA	88813000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5544513
+SHUFFLE	COMPRESS_BYTE_COUNT	1726807
+SHUFFLE	COPY_MAP_DATA	115895000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5501577
+SHUFFLE	COMPRESS_BYTE_COUNT	1710343
+SHUFFLE	COPY_MAP_DATA	91267000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5468504
+SHUFFLE	COMPRESS_BYTE_COUNT	1700500
+SHUFFLE	COPY_MAP_DATA	115643000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5563446
+SHUFFLE	COMPRESS_BYTE_COUNT	1733539
+SHUFFLE	COPY_MAP_DATA	141666000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5503630
+SHUFFLE	COMPRESS_BYTE_COUNT	1711381
+SHUFFLE	COPY_MAP_DATA	565723000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5547625
+SHUFFLE	COMPRESS_BYTE_COUNT	1729333
+SHUFFLE	COPY_MAP_DATA	205667000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5525195
+SHUFFLE	COMPRESS_BYTE_COUNT	1737503
+SHUFFLE	COPY_MAP_DATA	329700000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5557727
+SHUFFLE	COMPRESS_BYTE_COUNT	1727502
+SHUFFLE	COPY_MAP_DATA	111523000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5561135
+SHUFFLE	COMPRESS_BYTE_COUNT	1731401
+SHUFFLE	COPY_MAP_DATA	156210000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5481073
+SHUFFLE	COMPRESS_BYTE_COUNT	1703000
+SHUFFLE	COPY_MAP_DATA	473718000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5556988
+SHUFFLE	COMPRESS_BYTE_COUNT	1729222
+SHUFFLE	COPY_MAP_DATA	196352000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5613442
+SHUFFLE	COMPRESS_BYTE_COUNT	1731956
+SHUFFLE	COPY_MAP_DATA	94240000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5502589
+SHUFFLE	COMPRESS_BYTE_COUNT	1745063
+SHUFFLE	COPY_MAP_DATA	370613000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5606584
+SHUFFLE	COMPRESS_BYTE_COUNT	1729432
+SHUFFLE	COPY_MAP_DATA	160183000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4729539
+SHUFFLE	COMPRESS_BYTE_COUNT	1452732
+SHUFFLE	COPY_MAP_DATA	320900000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4683811
+SHUFFLE	COMPRESS_BYTE_COUNT	1439492
+SHUFFLE	COPY_MAP_DATA	127472000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5594650
+SHUFFLE	COMPRESS_BYTE_COUNT	1727111
+SHUFFLE	COPY_MAP_DATA	104224000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5608159
+SHUFFLE	COMPRESS_BYTE_COUNT	1731711
+SHUFFLE	COPY_MAP_DATA	119144000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4450061
+SHUFFLE	COMPRESS_BYTE_COUNT	1384034
+SHUFFLE	COPY_MAP_DATA	447343000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5595378
+SHUFFLE	COMPRESS_BYTE_COUNT	1725922
+SHUFFLE	COPY_MAP_DATA	227343000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4475992
+SHUFFLE	COMPRESS_BYTE_COUNT	1390495
+SHUFFLE	COPY_MAP_DATA	1291583000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5596762
+SHUFFLE	COMPRESS_BYTE_COUNT	1727254
+SHUFFLE	COPY_MAP_DATA	89221000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4745642
+SHUFFLE	COMPRESS_BYTE_COUNT	1457270
+SHUFFLE	COPY_MAP_DATA	76998000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5583905
+SHUFFLE	COMPRESS_BYTE_COUNT	1723743
+SHUFFLE	COPY_MAP_DATA	265009000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4725544
+SHUFFLE	COMPRESS_BYTE_COUNT	1452700
+SHUFFLE	COPY_MAP_DATA	76521000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5585880
+SHUFFLE	COMPRESS_BYTE_COUNT	1724477
+SHUFFLE	COPY_MAP_DATA	237245000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5597571
+SHUFFLE	COMPRESS_BYTE_COUNT	1728758
+SHUFFLE	COPY_MAP_DATA	497310000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5553293
+SHUFFLE	COMPRESS_BYTE_COUNT	1729908
+SHUFFLE	COPY_MAP_DATA	343867000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5589379
+SHUFFLE	COMPRESS_BYTE_COUNT	1725242
+SHUFFLE	COPY_MAP_DATA	115695000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5589074
+SHUFFLE	COMPRESS_BYTE_COUNT	1725966
+SHUFFLE	COPY_MAP_DATA	93299000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4685220
+SHUFFLE	COMPRESS_BYTE_COUNT	1438838
+SHUFFLE	COPY_MAP_DATA	76357000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4799187
+SHUFFLE	COMPRESS_BYTE_COUNT	1473718
+SHUFFLE	COPY_MAP_DATA	96424000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4738253
+SHUFFLE	COMPRESS_BYTE_COUNT	1455401
+SHUFFLE	COPY_MAP_DATA	231926000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5585750
+SHUFFLE	COMPRESS_BYTE_COUNT	1723978
+SHUFFLE	COPY_MAP_DATA	562018000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5544383
+SHUFFLE	COMPRESS_BYTE_COUNT	1727945
+SHUFFLE	COPY_MAP_DATA	186625000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5560847
+SHUFFLE	COMPRESS_BYTE_COUNT	1732120
+SHUFFLE	COPY_MAP_DATA	159847000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5559292
+SHUFFLE	COMPRESS_BYTE_COUNT	1732509
+SHUFFLE	COPY_MAP_DATA	186131000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1740244
+SHUFFLE	COMPRESS_BYTE_COUNT	537525
+SHUFFLE	COPY_MAP_DATA	178401000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5559949
+SHUFFLE	COMPRESS_BYTE_COUNT	1732023
+SHUFFLE	COPY_MAP_DATA	238182000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5561587
+SHUFFLE	COMPRESS_BYTE_COUNT	1732690
+SHUFFLE	COPY_MAP_DATA	204414000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4719765
+SHUFFLE	COMPRESS_BYTE_COUNT	1448721
+SHUFFLE	COPY_MAP_DATA	169801000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4720501
+SHUFFLE	COMPRESS_BYTE_COUNT	1449658
+SHUFFLE	COPY_MAP_DATA	153778000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4482919
+SHUFFLE	COMPRESS_BYTE_COUNT	1393392
+SHUFFLE	COPY_MAP_DATA	71553000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5541410
+SHUFFLE	COMPRESS_BYTE_COUNT	1726308
+SHUFFLE	COPY_MAP_DATA	87666000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4450108
+SHUFFLE	COMPRESS_BYTE_COUNT	1383715
+SHUFFLE	COPY_MAP_DATA	289038000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4390942
+SHUFFLE	COMPRESS_BYTE_COUNT	1364843
+SHUFFLE	COPY_MAP_DATA	91977000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4411311
+SHUFFLE	COMPRESS_BYTE_COUNT	1371900
+SHUFFLE	COPY_MAP_DATA	781901000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4299339
+SHUFFLE	COMPRESS_BYTE_COUNT	1336227
+SHUFFLE	COPY_MAP_DATA	68636000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5601793
+SHUFFLE	COMPRESS_BYTE_COUNT	1729028
+SHUFFLE	COPY_MAP_DATA	87522000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1746543
+SHUFFLE	COMPRESS_BYTE_COUNT	539254
+SHUFFLE	COPY_MAP_DATA	84654000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1739990
+SHUFFLE	COMPRESS_BYTE_COUNT	537950
+SHUFFLE	COPY_MAP_DATA	12727892000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1747957
+SHUFFLE	COMPRESS_BYTE_COUNT	539580
+SHUFFLE	COPY_MAP_DATA	132809000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1663571
+SHUFFLE	COMPRESS_BYTE_COUNT	519158
+SHUFFLE	COPY_MAP_DATA	65069000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1736529
+SHUFFLE	COMPRESS_BYTE_COUNT	537065
+SHUFFLE	COPY_MAP_DATA	135682000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1737913
+SHUFFLE	COMPRESS_BYTE_COUNT	537073
+SHUFFLE	COPY_MAP_DATA	44553000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1743995
+SHUFFLE	COMPRESS_BYTE_COUNT	539274
+SHUFFLE	COPY_MAP_DATA	76470000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1737398
+SHUFFLE	COMPRESS_BYTE_COUNT	536986
+SHUFFLE	COPY_MAP_DATA	27440000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1666415
+SHUFFLE	COMPRESS_BYTE_COUNT	520218
+SHUFFLE	COPY_MAP_DATA	39239000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4746436
+SHUFFLE	COMPRESS_BYTE_COUNT	1457328
+SHUFFLE	COPY_MAP_DATA	163777000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4443537
+SHUFFLE	COMPRESS_BYTE_COUNT	1381704
+SHUFFLE	COPY_MAP_DATA	2402939000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5548779
+SHUFFLE	COMPRESS_BYTE_COUNT	1728451
+SHUFFLE	COPY_MAP_DATA	145480000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1664838
+SHUFFLE	COMPRESS_BYTE_COUNT	519304
+SHUFFLE	COPY_MAP_DATA	56507000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1745338
+SHUFFLE	COMPRESS_BYTE_COUNT	539132
+SHUFFLE	COPY_MAP_DATA	84113000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4421797
+SHUFFLE	COMPRESS_BYTE_COUNT	1374098
+SHUFFLE	COPY_MAP_DATA	245282000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1664884
+SHUFFLE	COMPRESS_BYTE_COUNT	519929
+SHUFFLE	COPY_MAP_DATA	56022000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1652893
+SHUFFLE	COMPRESS_BYTE_COUNT	516086
+SHUFFLE	COPY_MAP_DATA	27237000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1659279
+SHUFFLE	COMPRESS_BYTE_COUNT	518683
+SHUFFLE	COPY_MAP_DATA	241123000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4596137
+SHUFFLE	COMPRESS_BYTE_COUNT	1410803
+SHUFFLE	COPY_MAP_DATA	86243000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4719640
+SHUFFLE	COMPRESS_BYTE_COUNT	1448734
+SHUFFLE	COPY_MAP_DATA	480509000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4439715
+SHUFFLE	COMPRESS_BYTE_COUNT	1379680
+SHUFFLE	COPY_MAP_DATA	535392000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4764898
+SHUFFLE	COMPRESS_BYTE_COUNT	1462091
+SHUFFLE	COPY_MAP_DATA	171167000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4491909
+SHUFFLE	COMPRESS_BYTE_COUNT	1396702
+SHUFFLE	COPY_MAP_DATA	615122000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1663621
+SHUFFLE	COMPRESS_BYTE_COUNT	519029
+SHUFFLE	COPY_MAP_DATA	43996000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4371996
+SHUFFLE	COMPRESS_BYTE_COUNT	1359204
+SHUFFLE	COPY_MAP_DATA	130009000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4144523
+SHUFFLE	COMPRESS_BYTE_COUNT	1305019
+SHUFFLE	COPY_MAP_DATA	4054622000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1665834
+SHUFFLE	COMPRESS_BYTE_COUNT	519913
+SHUFFLE	COPY_MAP_DATA	221038000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4730119
+SHUFFLE	COMPRESS_BYTE_COUNT	1451860
+SHUFFLE	COPY_MAP_DATA	74853000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4500588
+SHUFFLE	COMPRESS_BYTE_COUNT	1398549
+SHUFFLE	COPY_MAP_DATA	70446000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1667955
+SHUFFLE	COMPRESS_BYTE_COUNT	520745
+SHUFFLE	COPY_MAP_DATA	27824000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1737352
+SHUFFLE	COMPRESS_BYTE_COUNT	537336
+SHUFFLE	COPY_MAP_DATA	28712000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1733957
+SHUFFLE	COMPRESS_BYTE_COUNT	535843
+SHUFFLE	COPY_MAP_DATA	47638000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1733985
+SHUFFLE	COMPRESS_BYTE_COUNT	536597
+SHUFFLE	COPY_MAP_DATA	28205000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4460991
+SHUFFLE	COMPRESS_BYTE_COUNT	1387591
+SHUFFLE	COPY_MAP_DATA	67859000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1662416
+SHUFFLE	COMPRESS_BYTE_COUNT	519386
+SHUFFLE	COPY_MAP_DATA	195587000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1729131
+SHUFFLE	COMPRESS_BYTE_COUNT	534876
+SHUFFLE	COPY_MAP_DATA	106173000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1580606
+SHUFFLE	COMPRESS_BYTE_COUNT	498961
+SHUFFLE	COPY_MAP_DATA	107686000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1660792
+SHUFFLE	COMPRESS_BYTE_COUNT	518553
+SHUFFLE	COPY_MAP_DATA	95285000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1672403
+SHUFFLE	COMPRESS_BYTE_COUNT	520762
+SHUFFLE	COPY_MAP_DATA	26979000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1695031
+SHUFFLE	COMPRESS_BYTE_COUNT	523686
+SHUFFLE	COPY_MAP_DATA	85781000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1664957
+SHUFFLE	COMPRESS_BYTE_COUNT	519374
+SHUFFLE	COPY_MAP_DATA	1782770372
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1671152
+SHUFFLE	COMPRESS_BYTE_COUNT	520705
+SHUFFLE	COPY_MAP_DATA	27227000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1623902
+SHUFFLE	COMPRESS_BYTE_COUNT	506889
+SHUFFLE	COPY_MAP_DATA	44026000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4471513
+SHUFFLE	COMPRESS_BYTE_COUNT	1390534
+SHUFFLE	COPY_MAP_DATA	88116000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	464237196972
+MERGE	READ_WRITE	460317022972
+MERGE	READ_WRITE_COUNT	8
+MERGE	COMBINE	0
+MERGE	WRITE	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	11592674000
+SORT	READ_WRITE	11472861000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	143709424
+REDUCE	SETUP	348000
+REDUCE	SETUP_MEM	143709424
+REDUCE	CLEANUP	35000
+REDUCE	CLEANUP_MEM	131898872
+REDUCE	TOTAL_RUN	457625969743
+REDUCE	READ	7811323000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	436997448743
+REDUCE	WRITE	239709761790
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	55891831
+REDUCE	VALUE_BYTE_COUNT	1648121184
+REDUCE	REDUCE_MEM	131900920
+REDUCE	WRITE	127296000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	1134451308830
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00000	0
+MAP	STARTUP_MEM	215231432
+MAP	SETUP	475000
+MAP	SETUP_MEM	215231432
+MAP	CLEANUP	94000
+MAP	CLEANUP_MEM	222632496
+MAP	TOTAL_RUN	25029130000
+MAP	READ	4154673000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	13421780
+MAP	VALUE_BYTE_COUNT	118111664
+MAP	MAP	16444141000
+MAP	WRITE	6274279000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1237775000
+MAP	SERIALIZE_OUTPUT	2121061000
+MAP	MAP_MEM	222632496
+SPILL	SORT_AND_SPILL	18286817000
+SPILL	QUICK_SORT	2914195000
+SPILL	SORT_COUNT	1342178
+SPILL	COMBINE	0
+SPILL	WRITE	15372622000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136902210
+SPILL	COMPRESS_BYTE_COUNT	20054488
+MERGE	TOTAL_MERGE	1615000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	43942678000
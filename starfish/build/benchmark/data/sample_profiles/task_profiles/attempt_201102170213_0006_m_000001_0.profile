@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00000	0
+MAP	STARTUP_MEM	214973120
+MAP	SETUP	467000
+MAP	SETUP_MEM	214973120
+MAP	CLEANUP	96000
+MAP	CLEANUP_MEM	220842592
+MAP	TOTAL_RUN	24585092000
+MAP	READ	3977982000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	13421770
+MAP	VALUE_BYTE_COUNT	118111576
+MAP	MAP	15878340000
+MAP	WRITE	6182382000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1198208000
+MAP	SERIALIZE_OUTPUT	2049842000
+MAP	MAP_MEM	221404752
+SPILL	SORT_AND_SPILL	18731934000
+SPILL	QUICK_SORT	2917498000
+SPILL	SORT_COUNT	1342177
+SPILL	COMBINE	0
+SPILL	WRITE	15814436000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136902108
+SPILL	COMPRESS_BYTE_COUNT	20081678
+MERGE	TOTAL_MERGE	1609000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	43990608000
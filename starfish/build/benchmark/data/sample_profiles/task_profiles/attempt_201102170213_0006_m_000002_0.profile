@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00001	0
+MAP	STARTUP_MEM	215232056
+MAP	SETUP	452000
+MAP	SETUP_MEM	215232056
+MAP	CLEANUP	99000
+MAP	CLEANUP_MEM	222134048
+MAP	TOTAL_RUN	24508903000
+MAP	READ	4008159000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	13421780
+MAP	VALUE_BYTE_COUNT	118111664
+MAP	MAP	16025359000
+MAP	WRITE	6478412000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1450616000
+MAP	SERIALIZE_OUTPUT	2109202000
+MAP	MAP_MEM	222696208
+SPILL	SORT_AND_SPILL	18655758000
+SPILL	QUICK_SORT	3141803000
+SPILL	SORT_COUNT	1342178
+SPILL	COMBINE	0
+SPILL	WRITE	15513955000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136902210
+SPILL	COMPRESS_BYTE_COUNT	20071526
+MERGE	TOTAL_MERGE	1590000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	43869952000
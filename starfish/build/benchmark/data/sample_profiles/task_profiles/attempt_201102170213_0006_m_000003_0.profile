@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00001	0
+MAP	STARTUP_MEM	215172704
+MAP	SETUP	438000
+MAP	SETUP_MEM	215172704
+MAP	CLEANUP	110000
+MAP	CLEANUP_MEM	222109640
+MAP	TOTAL_RUN	25086556000
+MAP	READ	4067494000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	13421770
+MAP	VALUE_BYTE_COUNT	118111576
+MAP	MAP	16403586000
+MAP	WRITE	6582719000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1202927000
+MAP	SERIALIZE_OUTPUT	2086911000
+MAP	MAP_MEM	222109640
+SPILL	SORT_AND_SPILL	19796804000
+SPILL	QUICK_SORT	3356824000
+SPILL	SORT_COUNT	1342177
+SPILL	COMBINE	0
+SPILL	WRITE	16439980000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136902108
+SPILL	COMPRESS_BYTE_COUNT	20081855
+MERGE	TOTAL_MERGE	2918000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	45481060000
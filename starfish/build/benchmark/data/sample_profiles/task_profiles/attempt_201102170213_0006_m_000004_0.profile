@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00002	0
+MAP	STARTUP_MEM	215289816
+MAP	SETUP	469000
+MAP	SETUP_MEM	215289816
+MAP	CLEANUP	398000
+MAP	CLEANUP_MEM	222081288
+MAP	TOTAL_RUN	25921049000
+MAP	READ	4461602000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	13421780
+MAP	VALUE_BYTE_COUNT	118111664
+MAP	MAP	16668224000
+MAP	WRITE	6420285000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1249037000
+MAP	SERIALIZE_OUTPUT	2189115000
+MAP	MAP_MEM	222643448
+SPILL	SORT_AND_SPILL	19032844000
+SPILL	QUICK_SORT	3205471000
+SPILL	SORT_COUNT	1342178
+SPILL	COMBINE	0
+SPILL	WRITE	15827373000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136902210
+SPILL	COMPRESS_BYTE_COUNT	20071754
+MERGE	TOTAL_MERGE	3297000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	45585774000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00002	0
+MAP	STARTUP_MEM	215255120
+MAP	SETUP	790000
+MAP	SETUP_MEM	215255120
+MAP	CLEANUP	89000
+MAP	CLEANUP_MEM	222117608
+MAP	TOTAL_RUN	30324857000
+MAP	READ	5055846000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	13421770
+MAP	VALUE_BYTE_COUNT	118111576
+MAP	MAP	19184767000
+MAP	WRITE	7901489000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1676946000
+MAP	SERIALIZE_OUTPUT	2478841000
+MAP	MAP_MEM	222679768
+SPILL	SORT_AND_SPILL	19165380000
+SPILL	QUICK_SORT	3006056000
+SPILL	SORT_COUNT	1342177
+SPILL	COMBINE	0
+SPILL	WRITE	16159324000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136902108
+SPILL	COMPRESS_BYTE_COUNT	20082389
+MERGE	TOTAL_MERGE	1617000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	50245055000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00003	0
+MAP	STARTUP_MEM	216083432
+MAP	SETUP	487000
+MAP	SETUP_MEM	216083432
+MAP	CLEANUP	94000
+MAP	CLEANUP_MEM	222121288
+MAP	TOTAL_RUN	24475925000
+MAP	READ	4066807000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	13421780
+MAP	VALUE_BYTE_COUNT	118111664
+MAP	MAP	15485561000
+MAP	WRITE	5964519000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1132834000
+MAP	SERIALIZE_OUTPUT	1992369000
+MAP	MAP_MEM	222683456
+SPILL	SORT_AND_SPILL	18449770000
+SPILL	QUICK_SORT	3084567000
+SPILL	SORT_COUNT	1342178
+SPILL	COMBINE	0
+SPILL	WRITE	15365203000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136902210
+SPILL	COMPRESS_BYTE_COUNT	20070360
+MERGE	TOTAL_MERGE	1645000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	43657932000
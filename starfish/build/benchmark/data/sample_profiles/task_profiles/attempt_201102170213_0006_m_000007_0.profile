@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00003	0
+MAP	STARTUP_MEM	216113576
+MAP	SETUP	498000
+MAP	SETUP_MEM	216113576
+MAP	CLEANUP	98000
+MAP	CLEANUP_MEM	222135296
+MAP	TOTAL_RUN	24339130000
+MAP	READ	3962561000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	13421770
+MAP	VALUE_BYTE_COUNT	118111576
+MAP	MAP	16043371000
+MAP	WRITE	6078922000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1221812000
+MAP	SERIALIZE_OUTPUT	2052771000
+MAP	MAP_MEM	222135296
+SPILL	SORT_AND_SPILL	18595675000
+SPILL	QUICK_SORT	3123245000
+SPILL	SORT_COUNT	1342177
+SPILL	COMBINE	0
+SPILL	WRITE	15472430000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136902108
+SPILL	COMPRESS_BYTE_COUNT	20078094
+MERGE	TOTAL_MERGE	1629000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	43655153000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00004	0
+MAP	STARTUP_MEM	216024352
+MAP	SETUP	470000
+MAP	SETUP_MEM	216024352
+MAP	CLEANUP	106000
+MAP	CLEANUP_MEM	222689864
+MAP	TOTAL_RUN	24643129000
+MAP	READ	4126652000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	13421780
+MAP	VALUE_BYTE_COUNT	118111664
+MAP	MAP	16078891000
+MAP	WRITE	6281874000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1221165000
+MAP	SERIALIZE_OUTPUT	2048093000
+MAP	MAP_MEM	222689864
+SPILL	SORT_AND_SPILL	18853124000
+SPILL	QUICK_SORT	3532795000
+SPILL	SORT_COUNT	1342178
+SPILL	COMBINE	0
+SPILL	WRITE	15320329000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136902210
+SPILL	COMPRESS_BYTE_COUNT	20066969
+MERGE	TOTAL_MERGE	1603000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	44019872000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00004	0
+MAP	STARTUP_MEM	215283432
+MAP	SETUP	480000
+MAP	SETUP_MEM	215283432
+MAP	CLEANUP	119000
+MAP	CLEANUP_MEM	222105448
+MAP	TOTAL_RUN	26759092000
+MAP	READ	4224261000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	13421770
+MAP	VALUE_BYTE_COUNT	118111576
+MAP	MAP	17570451000
+MAP	WRITE	6750027000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1282571000
+MAP	SERIALIZE_OUTPUT	2246663000
+MAP	MAP_MEM	222667608
+SPILL	SORT_AND_SPILL	19765453000
+SPILL	QUICK_SORT	3621239000
+SPILL	SORT_COUNT	1342177
+SPILL	COMBINE	0
+SPILL	WRITE	16144214000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136902108
+SPILL	COMPRESS_BYTE_COUNT	20079698
+MERGE	TOTAL_MERGE	1759000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	47147410000
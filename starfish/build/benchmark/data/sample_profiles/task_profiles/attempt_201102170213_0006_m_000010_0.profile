@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00005	0
+MAP	STARTUP_MEM	216071648
+MAP	SETUP	506000
+MAP	SETUP_MEM	216071648
+MAP	CLEANUP	100000
+MAP	CLEANUP_MEM	222648696
+MAP	TOTAL_RUN	29264240000
+MAP	READ	5193412000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	13421780
+MAP	VALUE_BYTE_COUNT	118111664
+MAP	MAP	18320127000
+MAP	WRITE	7646189000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1530613000
+MAP	SERIALIZE_OUTPUT	2354726000
+MAP	MAP_MEM	222648696
+SPILL	SORT_AND_SPILL	19332720808
+SPILL	QUICK_SORT	3558724000
+SPILL	SORT_COUNT	1342178
+SPILL	COMBINE	0
+SPILL	WRITE	15773996808
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136902210
+SPILL	COMPRESS_BYTE_COUNT	20069302
+MERGE	TOTAL_MERGE	1737000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	49104194808
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00005	0
+MAP	STARTUP_MEM	216052768
+MAP	SETUP	500000
+MAP	SETUP_MEM	216052768
+MAP	CLEANUP	92000
+MAP	CLEANUP_MEM	222675152
+MAP	TOTAL_RUN	24266043000
+MAP	READ	4178112000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	13421770
+MAP	VALUE_BYTE_COUNT	118111576
+MAP	MAP	15367338000
+MAP	WRITE	6169802000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1187851000
+MAP	SERIALIZE_OUTPUT	2044872000
+MAP	MAP_MEM	222675152
+SPILL	SORT_AND_SPILL	18704849000
+SPILL	QUICK_SORT	3122952000
+SPILL	SORT_COUNT	1342177
+SPILL	COMBINE	0
+SPILL	WRITE	15581897000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136902108
+SPILL	COMPRESS_BYTE_COUNT	20079670
+MERGE	TOTAL_MERGE	1577000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	43700921000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00006	0
+MAP	STARTUP_MEM	216075456
+MAP	SETUP	493000
+MAP	SETUP_MEM	216075456
+MAP	CLEANUP	96000
+MAP	CLEANUP_MEM	222685192
+MAP	TOTAL_RUN	24125826000
+MAP	READ	4033706000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	13421780
+MAP	VALUE_BYTE_COUNT	118111664
+MAP	MAP	15495797000
+MAP	WRITE	5989999000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1178195000
+MAP	SERIALIZE_OUTPUT	1993392000
+MAP	MAP_MEM	222685192
+SPILL	SORT_AND_SPILL	19191392000
+SPILL	QUICK_SORT	3673367000
+SPILL	SORT_COUNT	1342178
+SPILL	COMBINE	0
+SPILL	WRITE	15518025000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136902210
+SPILL	COMPRESS_BYTE_COUNT	20070835
+MERGE	TOTAL_MERGE	1619000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	43800435000
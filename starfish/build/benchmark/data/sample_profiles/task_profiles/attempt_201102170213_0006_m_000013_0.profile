@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00006	0
+MAP	STARTUP_MEM	215220056
+MAP	SETUP	482000
+MAP	SETUP_MEM	215220056
+MAP	CLEANUP	104000
+MAP	CLEANUP_MEM	222664120
+MAP	TOTAL_RUN	26261526000
+MAP	READ	4239025000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	13421770
+MAP	VALUE_BYTE_COUNT	118111576
+MAP	MAP	17370409000
+MAP	WRITE	6125395000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1244089000
+MAP	SERIALIZE_OUTPUT	2027420000
+MAP	MAP_MEM	222664120
+SPILL	SORT_AND_SPILL	20042865000
+SPILL	QUICK_SORT	3203177000
+SPILL	SORT_COUNT	1342177
+SPILL	COMBINE	0
+SPILL	WRITE	16839688000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136902108
+SPILL	COMPRESS_BYTE_COUNT	20076624
+MERGE	TOTAL_MERGE	1765000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	47170310000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00007	0
+MAP	STARTUP_MEM	215258016
+MAP	SETUP	451000
+MAP	SETUP_MEM	215258016
+MAP	CLEANUP	90000
+MAP	CLEANUP_MEM	222078272
+MAP	TOTAL_RUN	24140254000
+MAP	READ	3982022000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	13421780
+MAP	VALUE_BYTE_COUNT	118111664
+MAP	MAP	15668512000
+MAP	WRITE	5942844000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1140898000
+MAP	SERIALIZE_OUTPUT	2123262000
+MAP	MAP_MEM	222640432
+SPILL	SORT_AND_SPILL	18391445000
+SPILL	QUICK_SORT	3185069000
+SPILL	SORT_COUNT	1342178
+SPILL	COMBINE	0
+SPILL	WRITE	15206376000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136902210
+SPILL	COMPRESS_BYTE_COUNT	20065784
+MERGE	TOTAL_MERGE	1673000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	43087862000
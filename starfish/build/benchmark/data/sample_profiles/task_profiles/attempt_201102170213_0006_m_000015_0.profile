@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00007	0
+MAP	STARTUP_MEM	215062504
+MAP	SETUP	449000
+MAP	SETUP_MEM	215062504
+MAP	CLEANUP	96000
+MAP	CLEANUP_MEM	221424720
+MAP	TOTAL_RUN	24568569000
+MAP	READ	4036907000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	13421770
+MAP	VALUE_BYTE_COUNT	118111576
+MAP	MAP	16017712000
+MAP	WRITE	6378077000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1306630000
+MAP	SERIALIZE_OUTPUT	2075595000
+MAP	MAP_MEM	221424720
+SPILL	SORT_AND_SPILL	18590936000
+SPILL	QUICK_SORT	3202958000
+SPILL	SORT_COUNT	1342177
+SPILL	COMBINE	0
+SPILL	WRITE	15387978000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136902108
+SPILL	COMPRESS_BYTE_COUNT	20077665
+MERGE	TOTAL_MERGE	1641000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	43814433000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00008	0
+MAP	STARTUP_MEM	215297344
+MAP	SETUP	443000
+MAP	SETUP_MEM	215297344
+MAP	CLEANUP	124000
+MAP	CLEANUP_MEM	222670992
+MAP	TOTAL_RUN	26028600000
+MAP	READ	4224708000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	13421780
+MAP	VALUE_BYTE_COUNT	118111664
+MAP	MAP	17188111000
+MAP	WRITE	6285340000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1372518000
+MAP	SERIALIZE_OUTPUT	2036363000
+MAP	MAP_MEM	222670992
+SPILL	SORT_AND_SPILL	20277903000
+SPILL	QUICK_SORT	3501820000
+SPILL	SORT_COUNT	1342178
+SPILL	COMBINE	0
+SPILL	WRITE	16776083000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136902210
+SPILL	COMPRESS_BYTE_COUNT	20069514
+MERGE	TOTAL_MERGE	1845000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	46887210000
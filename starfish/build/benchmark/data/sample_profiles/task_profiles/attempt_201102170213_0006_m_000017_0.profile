@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00008	0
+MAP	STARTUP_MEM	214973008
+MAP	SETUP	587000
+MAP	SETUP_MEM	214973008
+MAP	CLEANUP	104000
+MAP	CLEANUP_MEM	222647560
+MAP	TOTAL_RUN	28162037000
+MAP	READ	4595393000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	13421770
+MAP	VALUE_BYTE_COUNT	118111576
+MAP	MAP	17560595000
+MAP	WRITE	6679128000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1442762000
+MAP	SERIALIZE_OUTPUT	2243455000
+MAP	MAP_MEM	222647560
+SPILL	SORT_AND_SPILL	20605471000
+SPILL	QUICK_SORT	4355481000
+SPILL	SORT_COUNT	1342177
+SPILL	COMBINE	0
+SPILL	WRITE	16249990000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136902108
+SPILL	COMPRESS_BYTE_COUNT	20077606
+MERGE	TOTAL_MERGE	1911000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	49423552000
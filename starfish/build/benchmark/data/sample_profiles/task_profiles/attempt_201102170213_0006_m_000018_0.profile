@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00009	0
+MAP	STARTUP_MEM	216044880
+MAP	SETUP	472000
+MAP	SETUP_MEM	216044880
+MAP	CLEANUP	90000
+MAP	CLEANUP_MEM	222102288
+MAP	TOTAL_RUN	24575612000
+MAP	READ	4103853000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	13421780
+MAP	VALUE_BYTE_COUNT	118111664
+MAP	MAP	15827125000
+MAP	WRITE	6095479000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1201241000
+MAP	SERIALIZE_OUTPUT	1987654000
+MAP	MAP_MEM	222664448
+SPILL	SORT_AND_SPILL	18815977000
+SPILL	QUICK_SORT	3069478000
+SPILL	SORT_COUNT	1342178
+SPILL	COMBINE	0
+SPILL	WRITE	15746499000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136902210
+SPILL	COMPRESS_BYTE_COUNT	20069168
+MERGE	TOTAL_MERGE	1603000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	43886835000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00009	0
+MAP	STARTUP_MEM	215204592
+MAP	SETUP	505000
+MAP	SETUP_MEM	215204592
+MAP	CLEANUP	95000
+MAP	CLEANUP_MEM	222134352
+MAP	TOTAL_RUN	25973679000
+MAP	READ	3980090000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	13421770
+MAP	VALUE_BYTE_COUNT	118111576
+MAP	MAP	17291665000
+MAP	WRITE	6249508000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1209176000
+MAP	SERIALIZE_OUTPUT	2055517000
+MAP	MAP_MEM	222134352
+SPILL	SORT_AND_SPILL	18701510000
+SPILL	QUICK_SORT	3312839000
+SPILL	SORT_COUNT	1342177
+SPILL	COMBINE	0
+SPILL	WRITE	15388671000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136902108
+SPILL	COMPRESS_BYTE_COUNT	20080512
+MERGE	TOTAL_MERGE	1708000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	45588605000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00010	0
+MAP	STARTUP_MEM	215256128
+MAP	SETUP	530000
+MAP	SETUP_MEM	215256128
+MAP	CLEANUP	122000
+MAP	CLEANUP_MEM	222634168
+MAP	TOTAL_RUN	27501591000
+MAP	READ	4367024000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	13421780
+MAP	VALUE_BYTE_COUNT	118111664
+MAP	MAP	18473075000
+MAP	WRITE	6200523000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1242038000
+MAP	SERIALIZE_OUTPUT	2018512000
+MAP	MAP_MEM	222634168
+SPILL	SORT_AND_SPILL	20492510000
+SPILL	QUICK_SORT	4491519000
+SPILL	SORT_COUNT	1342178
+SPILL	COMBINE	0
+SPILL	WRITE	16000991000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136902210
+SPILL	COMPRESS_BYTE_COUNT	20066854
+MERGE	TOTAL_MERGE	1774000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	48844587000
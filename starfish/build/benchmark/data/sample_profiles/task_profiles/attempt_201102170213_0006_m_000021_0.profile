@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00010	0
+MAP	STARTUP_MEM	215220488
+MAP	SETUP	516000
+MAP	SETUP_MEM	215220488
+MAP	CLEANUP	102000
+MAP	CLEANUP_MEM	222664960
+MAP	TOTAL_RUN	30035148000
+MAP	READ	5085947000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	13421770
+MAP	VALUE_BYTE_COUNT	118111576
+MAP	MAP	19276990000
+MAP	WRITE	7834759000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1579658000
+MAP	SERIALIZE_OUTPUT	2428928000
+MAP	MAP_MEM	222664960
+SPILL	SORT_AND_SPILL	20477803672
+SPILL	QUICK_SORT	3279126000
+SPILL	SORT_COUNT	1342177
+SPILL	COMBINE	0
+SPILL	WRITE	17198677672
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136902108
+SPILL	COMPRESS_BYTE_COUNT	20080344
+MERGE	TOTAL_MERGE	1692000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	51175337672
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00011	0
+MAP	STARTUP_MEM	216071096
+MAP	SETUP	506000
+MAP	SETUP_MEM	216071096
+MAP	CLEANUP	96000
+MAP	CLEANUP_MEM	222084496
+MAP	TOTAL_RUN	29686816000
+MAP	READ	5166093000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	13421780
+MAP	VALUE_BYTE_COUNT	118111664
+MAP	MAP	18307167000
+MAP	WRITE	8036880000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1707157000
+MAP	SERIALIZE_OUTPUT	2464965000
+MAP	MAP_MEM	222646656
+SPILL	SORT_AND_SPILL	19076288808
+SPILL	QUICK_SORT	3355791000
+SPILL	SORT_COUNT	1342178
+SPILL	COMBINE	0
+SPILL	WRITE	15720497808
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136902210
+SPILL	COMPRESS_BYTE_COUNT	20067944
+MERGE	TOTAL_MERGE	1656000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	49332650808
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00011	0
+MAP	STARTUP_MEM	215267008
+MAP	SETUP	454000
+MAP	SETUP_MEM	215267008
+MAP	CLEANUP	93000
+MAP	CLEANUP_MEM	222644544
+MAP	TOTAL_RUN	24987421000
+MAP	READ	4118139000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	13421770
+MAP	VALUE_BYTE_COUNT	118111576
+MAP	MAP	16415341000
+MAP	WRITE	6275479000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1278162000
+MAP	SERIALIZE_OUTPUT	2122906000
+MAP	MAP_MEM	222644544
+SPILL	SORT_AND_SPILL	18957399000
+SPILL	QUICK_SORT	3281853000
+SPILL	SORT_COUNT	1342177
+SPILL	COMBINE	0
+SPILL	WRITE	15675546000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136902108
+SPILL	COMPRESS_BYTE_COUNT	20078609
+MERGE	TOTAL_MERGE	1723000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	44559628000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00012	0
+MAP	STARTUP_MEM	216045672
+MAP	SETUP	556000
+MAP	SETUP_MEM	216045672
+MAP	CLEANUP	100000
+MAP	CLEANUP_MEM	222665472
+MAP	TOTAL_RUN	32605505000
+MAP	READ	6707327000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	13421780
+MAP	VALUE_BYTE_COUNT	118111664
+MAP	MAP	19983252000
+MAP	WRITE	8105583000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1484933000
+MAP	SERIALIZE_OUTPUT	2480733000
+MAP	MAP_MEM	222665472
+SPILL	SORT_AND_SPILL	21194088470
+SPILL	QUICK_SORT	3264670000
+SPILL	SORT_COUNT	1342178
+SPILL	COMBINE	0
+SPILL	WRITE	17929418470
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136902210
+SPILL	COMPRESS_BYTE_COUNT	20069153
+MERGE	TOTAL_MERGE	1693000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	54349316470
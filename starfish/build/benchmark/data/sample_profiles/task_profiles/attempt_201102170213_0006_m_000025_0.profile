@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00012	0
+MAP	STARTUP_MEM	216146688
+MAP	SETUP	531000
+MAP	SETUP_MEM	216146688
+MAP	CLEANUP	117000
+MAP	CLEANUP_MEM	222157552
+MAP	TOTAL_RUN	29844100000
+MAP	READ	5206913000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	13421770
+MAP	VALUE_BYTE_COUNT	118111576
+MAP	MAP	18607053000
+MAP	WRITE	7819354000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1441197000
+MAP	SERIALIZE_OUTPUT	2463149000
+MAP	MAP_MEM	222157552
+SPILL	SORT_AND_SPILL	18978838294
+SPILL	QUICK_SORT	3233789000
+SPILL	SORT_COUNT	1342177
+SPILL	COMBINE	0
+SPILL	WRITE	15745049294
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136902108
+SPILL	COMPRESS_BYTE_COUNT	20081035
+MERGE	TOTAL_MERGE	1727000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	49458714294
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00013	0
+MAP	STARTUP_MEM	216081696
+MAP	SETUP	485000
+MAP	SETUP_MEM	216081696
+MAP	CLEANUP	95000
+MAP	CLEANUP_MEM	222703888
+MAP	TOTAL_RUN	33273153000
+MAP	READ	5366363000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	13421780
+MAP	VALUE_BYTE_COUNT	118111664
+MAP	MAP	19866083000
+MAP	WRITE	7288510000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1541300000
+MAP	SERIALIZE_OUTPUT	2168254000
+MAP	MAP_MEM	222703888
+SPILL	SORT_AND_SPILL	31148936000
+SPILL	QUICK_SORT	4750524000
+SPILL	SORT_COUNT	1342178
+SPILL	COMBINE	0
+SPILL	WRITE	26398412000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136902210
+SPILL	COMPRESS_BYTE_COUNT	20068191
+MERGE	TOTAL_MERGE	1714000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	65679389000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00013	0
+MAP	STARTUP_MEM	215245456
+MAP	SETUP	455000
+MAP	SETUP_MEM	215245456
+MAP	CLEANUP	96000
+MAP	CLEANUP_MEM	223356536
+MAP	TOTAL_RUN	34375670000
+MAP	READ	7062684000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	13421770
+MAP	VALUE_BYTE_COUNT	118111576
+MAP	MAP	20903508000
+MAP	WRITE	7623411000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1539508000
+MAP	SERIALIZE_OUTPUT	2713779000
+MAP	MAP_MEM	223356536
+SPILL	SORT_AND_SPILL	28937089000
+SPILL	QUICK_SORT	4556017000
+SPILL	SORT_COUNT	1342177
+SPILL	COMBINE	0
+SPILL	WRITE	24381072000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136902108
+SPILL	COMPRESS_BYTE_COUNT	20079523
+MERGE	TOTAL_MERGE	1593000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	64951685000
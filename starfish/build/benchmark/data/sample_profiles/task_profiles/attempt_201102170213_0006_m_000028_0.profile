@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00014	0
+MAP	STARTUP_MEM	216016992
+MAP	SETUP	499000
+MAP	SETUP_MEM	216016992
+MAP	CLEANUP	87000
+MAP	CLEANUP_MEM	223918608
+MAP	TOTAL_RUN	24621839000
+MAP	READ	4241709000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	13421780
+MAP	VALUE_BYTE_COUNT	118111664
+MAP	MAP	15883559000
+MAP	WRITE	6260550000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1138857000
+MAP	SERIALIZE_OUTPUT	1987460000
+MAP	MAP_MEM	223918608
+SPILL	SORT_AND_SPILL	18462278000
+SPILL	QUICK_SORT	3060216000
+SPILL	SORT_COUNT	1342178
+SPILL	COMBINE	0
+SPILL	WRITE	15402062000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136902210
+SPILL	COMPRESS_BYTE_COUNT	20067581
+MERGE	TOTAL_MERGE	1665000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	43600254000
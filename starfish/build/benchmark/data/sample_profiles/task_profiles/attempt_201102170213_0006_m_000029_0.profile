@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00014	0
+MAP	STARTUP_MEM	215817944
+MAP	SETUP	535000
+MAP	SETUP_MEM	215817944
+MAP	CLEANUP	212000
+MAP	CLEANUP_MEM	222124856
+MAP	TOTAL_RUN	30218298000
+MAP	READ	5050601000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	13421770
+MAP	VALUE_BYTE_COUNT	118111576
+MAP	MAP	18786669000
+MAP	WRITE	8242019000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1629657000
+MAP	SERIALIZE_OUTPUT	2564808000
+MAP	MAP_MEM	222687016
+SPILL	SORT_AND_SPILL	19351190294
+SPILL	QUICK_SORT	3389493000
+SPILL	SORT_COUNT	1342177
+SPILL	COMBINE	0
+SPILL	WRITE	15961697294
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136902108
+SPILL	COMPRESS_BYTE_COUNT	20077329
+MERGE	TOTAL_MERGE	1644000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	50129006294
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00015	0
+MAP	STARTUP_MEM	216017848
+MAP	SETUP	2505000
+MAP	SETUP_MEM	216017848
+MAP	CLEANUP	109000
+MAP	CLEANUP_MEM	222637008
+MAP	TOTAL_RUN	30406400000
+MAP	READ	5120108000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	13421780
+MAP	VALUE_BYTE_COUNT	118111664
+MAP	MAP	19137037000
+MAP	WRITE	7757216000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1514158000
+MAP	SERIALIZE_OUTPUT	2430232000
+MAP	MAP_MEM	222637008
+SPILL	SORT_AND_SPILL	20590016672
+SPILL	QUICK_SORT	3306193000
+SPILL	SORT_COUNT	1342178
+SPILL	COMBINE	0
+SPILL	WRITE	17283823672
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136902210
+SPILL	COMPRESS_BYTE_COUNT	20070658
+MERGE	TOTAL_MERGE	1723000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	51809804672
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00015	0
+MAP	STARTUP_MEM	216097040
+MAP	SETUP	517000
+MAP	SETUP_MEM	216097040
+MAP	CLEANUP	87000
+MAP	CLEANUP_MEM	224021672
+MAP	TOTAL_RUN	44356036000
+MAP	READ	8976644000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	13421770
+MAP	VALUE_BYTE_COUNT	118111576
+MAP	MAP	27542019000
+MAP	WRITE	12021374000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1383857000
+MAP	SERIALIZE_OUTPUT	4447032000
+MAP	MAP_MEM	224021672
+SPILL	SORT_AND_SPILL	26312528000
+SPILL	QUICK_SORT	4521746000
+SPILL	SORT_COUNT	1342177
+SPILL	COMBINE	0
+SPILL	WRITE	21790782000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136902108
+SPILL	COMPRESS_BYTE_COUNT	20077357
+MERGE	TOTAL_MERGE	1607000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	71254217000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00016	0
+MAP	STARTUP_MEM	215249440
+MAP	SETUP	453000
+MAP	SETUP_MEM	215249440
+MAP	CLEANUP	107000
+MAP	CLEANUP_MEM	222667656
+MAP	TOTAL_RUN	25544044000
+MAP	READ	4230067000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	13421780
+MAP	VALUE_BYTE_COUNT	118111664
+MAP	MAP	16528103000
+MAP	WRITE	6571364000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1462494000
+MAP	SERIALIZE_OUTPUT	2112622000
+MAP	MAP_MEM	222667656
+SPILL	SORT_AND_SPILL	18362399000
+SPILL	QUICK_SORT	3190875000
+SPILL	SORT_COUNT	1342178
+SPILL	COMBINE	0
+SPILL	WRITE	15171524000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136902210
+SPILL	COMPRESS_BYTE_COUNT	20070067
+MERGE	TOTAL_MERGE	1644000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	44789259000
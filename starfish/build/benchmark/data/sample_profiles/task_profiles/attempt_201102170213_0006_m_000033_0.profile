@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00016	0
+MAP	STARTUP_MEM	215215376
+MAP	SETUP	450000
+MAP	SETUP_MEM	215215376
+MAP	CLEANUP	101000
+MAP	CLEANUP_MEM	222650816
+MAP	TOTAL_RUN	28681000000
+MAP	READ	4960933000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	13421770
+MAP	VALUE_BYTE_COUNT	118111576
+MAP	MAP	18529662000
+MAP	WRITE	7173850000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1238654000
+MAP	SERIALIZE_OUTPUT	2289219000
+MAP	MAP_MEM	222650816
+SPILL	SORT_AND_SPILL	27601099000
+SPILL	QUICK_SORT	4536602000
+SPILL	SORT_COUNT	1342177
+SPILL	COMBINE	0
+SPILL	WRITE	23064497000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136902108
+SPILL	COMPRESS_BYTE_COUNT	20077607
+MERGE	TOTAL_MERGE	1639000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	57040951000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00017	0
+MAP	STARTUP_MEM	216056456
+MAP	SETUP	475000
+MAP	SETUP_MEM	216056456
+MAP	CLEANUP	96000
+MAP	CLEANUP_MEM	222200832
+MAP	TOTAL_RUN	36204310000
+MAP	READ	8058634000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	13421780
+MAP	VALUE_BYTE_COUNT	118111664
+MAP	MAP	21399354000
+MAP	WRITE	7903781000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1827769000
+MAP	SERIALIZE_OUTPUT	2156320000
+MAP	MAP_MEM	222762992
+SPILL	SORT_AND_SPILL	30831684000
+SPILL	QUICK_SORT	4199636000
+SPILL	SORT_COUNT	1342178
+SPILL	COMBINE	0
+SPILL	WRITE	26632048000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136902210
+SPILL	COMPRESS_BYTE_COUNT	20068598
+MERGE	TOTAL_MERGE	1580000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	67549950000
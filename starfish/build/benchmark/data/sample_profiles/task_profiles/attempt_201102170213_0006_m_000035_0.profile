@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00017	0
+MAP	STARTUP_MEM	216123096
+MAP	SETUP	504000
+MAP	SETUP_MEM	216123096
+MAP	CLEANUP	102000
+MAP	CLEANUP_MEM	223341352
+MAP	TOTAL_RUN	42007473000
+MAP	READ	5713632000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	13421770
+MAP	VALUE_BYTE_COUNT	118111576
+MAP	MAP	23599349000
+MAP	WRITE	11225758000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	3085458000
+MAP	SERIALIZE_OUTPUT	4097248000
+MAP	MAP_MEM	223903512
+SPILL	SORT_AND_SPILL	30992480000
+SPILL	QUICK_SORT	4722356000
+SPILL	SORT_COUNT	1342177
+SPILL	COMBINE	0
+SPILL	WRITE	26270124000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136902108
+SPILL	COMPRESS_BYTE_COUNT	20078948
+MERGE	TOTAL_MERGE	1823000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	73734653000
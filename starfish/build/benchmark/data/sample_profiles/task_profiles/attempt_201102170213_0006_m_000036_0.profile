@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00018	0
+MAP	STARTUP_MEM	216076784
+MAP	SETUP	531000
+MAP	SETUP_MEM	216076784
+MAP	CLEANUP	92000
+MAP	CLEANUP_MEM	222110952
+MAP	TOTAL_RUN	54071061918
+MAP	READ	10025046000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	13421780
+MAP	VALUE_BYTE_COUNT	118111664
+MAP	MAP	34056499918
+MAP	WRITE	15709738918
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1740543000
+MAP	SERIALIZE_OUTPUT	5769699918
+MAP	MAP_MEM	222673112
+SPILL	SORT_AND_SPILL	22774483000
+SPILL	QUICK_SORT	4063300000
+SPILL	SORT_COUNT	1342178
+SPILL	COMBINE	0
+SPILL	WRITE	18711183000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136902210
+SPILL	COMPRESS_BYTE_COUNT	20070049
+MERGE	TOTAL_MERGE	1707000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	77427347918
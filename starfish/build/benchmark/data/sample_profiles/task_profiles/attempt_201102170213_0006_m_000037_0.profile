@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00018	0
+MAP	STARTUP_MEM	215221488
+MAP	SETUP	450000
+MAP	SETUP_MEM	215221488
+MAP	CLEANUP	94000
+MAP	CLEANUP_MEM	222093856
+MAP	TOTAL_RUN	42227107000
+MAP	READ	10529097000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	13421770
+MAP	VALUE_BYTE_COUNT	118111576
+MAP	MAP	24030963000
+MAP	WRITE	8667211000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1332084000
+MAP	SERIALIZE_OUTPUT	3774385000
+MAP	MAP_MEM	222093856
+SPILL	SORT_AND_SPILL	27500688000
+SPILL	QUICK_SORT	6043553000
+SPILL	SORT_COUNT	1342177
+SPILL	COMBINE	0
+SPILL	WRITE	21457135000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136902108
+SPILL	COMPRESS_BYTE_COUNT	20075964
+MERGE	TOTAL_MERGE	1586000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	70413078000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00019	0
+MAP	STARTUP_MEM	216073304
+MAP	SETUP	553000
+MAP	SETUP_MEM	216073304
+MAP	CLEANUP	94000
+MAP	CLEANUP_MEM	223348848
+MAP	TOTAL_RUN	34980911000
+MAP	READ	6570551000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	13421780
+MAP	VALUE_BYTE_COUNT	118111664
+MAP	MAP	23330615000
+MAP	WRITE	8929195000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1698029000
+MAP	SERIALIZE_OUTPUT	3632469000
+MAP	MAP_MEM	223911008
+SPILL	SORT_AND_SPILL	30268426000
+SPILL	QUICK_SORT	6828250000
+SPILL	SORT_COUNT	1342178
+SPILL	COMBINE	0
+SPILL	WRITE	23440176000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136902210
+SPILL	COMPRESS_BYTE_COUNT	20071361
+MERGE	TOTAL_MERGE	1601000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	65797178000
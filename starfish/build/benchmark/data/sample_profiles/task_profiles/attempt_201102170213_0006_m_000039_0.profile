@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00019	0
+MAP	STARTUP_MEM	215224712
+MAP	SETUP	473000
+MAP	SETUP_MEM	215224712
+MAP	CLEANUP	96000
+MAP	CLEANUP_MEM	222115392
+MAP	TOTAL_RUN	33535545000
+MAP	READ	6196940000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	13421770
+MAP	VALUE_BYTE_COUNT	118111576
+MAP	MAP	21066865000
+MAP	WRITE	9671308000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1339714000
+MAP	SERIALIZE_OUTPUT	4022742000
+MAP	MAP_MEM	222115392
+SPILL	SORT_AND_SPILL	31170705000
+SPILL	QUICK_SORT	4117687000
+SPILL	SORT_COUNT	1342177
+SPILL	COMBINE	0
+SPILL	WRITE	27053018000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136902108
+SPILL	COMPRESS_BYTE_COUNT	20079119
+MERGE	TOTAL_MERGE	1616000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	65306386000
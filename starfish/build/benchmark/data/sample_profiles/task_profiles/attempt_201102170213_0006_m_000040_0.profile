@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00020	0
+MAP	STARTUP_MEM	216105632
+MAP	SETUP	504000
+MAP	SETUP_MEM	216105632
+MAP	CLEANUP	89000
+MAP	CLEANUP_MEM	223396304
+MAP	TOTAL_RUN	33756594000
+MAP	READ	5774664000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	13421780
+MAP	VALUE_BYTE_COUNT	118111664
+MAP	MAP	22060406000
+MAP	WRITE	8056024000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1499881000
+MAP	SERIALIZE_OUTPUT	2553969000
+MAP	MAP_MEM	223396304
+SPILL	SORT_AND_SPILL	29952532000
+SPILL	QUICK_SORT	4346388000
+SPILL	SORT_COUNT	1342178
+SPILL	COMBINE	0
+SPILL	WRITE	25606144000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136902210
+SPILL	COMPRESS_BYTE_COUNT	20066067
+MERGE	TOTAL_MERGE	1613000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	64481451000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00020	0
+MAP	STARTUP_MEM	216126824
+MAP	SETUP	486000
+MAP	SETUP_MEM	216126824
+MAP	CLEANUP	82000
+MAP	CLEANUP_MEM	223448712
+MAP	TOTAL_RUN	34413508000
+MAP	READ	7937010000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	13421770
+MAP	VALUE_BYTE_COUNT	118111576
+MAP	MAP	20188119000
+MAP	WRITE	8221758000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1373576000
+MAP	SERIALIZE_OUTPUT	2076327000
+MAP	MAP_MEM	223448712
+SPILL	SORT_AND_SPILL	30206101000
+SPILL	QUICK_SORT	3632531000
+SPILL	SORT_COUNT	1342177
+SPILL	COMBINE	0
+SPILL	WRITE	26573570000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136902108
+SPILL	COMPRESS_BYTE_COUNT	20079762
+MERGE	TOTAL_MERGE	1615000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	65202657000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00021	0
+MAP	STARTUP_MEM	216101544
+MAP	SETUP	489000
+MAP	SETUP_MEM	216101544
+MAP	CLEANUP	90000
+MAP	CLEANUP_MEM	222680952
+MAP	TOTAL_RUN	28136043000
+MAP	READ	5361013000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	13421780
+MAP	VALUE_BYTE_COUNT	118111664
+MAP	MAP	18172880000
+MAP	WRITE	6944848000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1160450000
+MAP	SERIALIZE_OUTPUT	2505097000
+MAP	MAP_MEM	222680952
+SPILL	SORT_AND_SPILL	25250124000
+SPILL	QUICK_SORT	3415242000
+SPILL	SORT_COUNT	1342178
+SPILL	COMBINE	0
+SPILL	WRITE	21834882000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136902210
+SPILL	COMPRESS_BYTE_COUNT	20070977
+MERGE	TOTAL_MERGE	1653000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	53866877000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00021	0
+MAP	STARTUP_MEM	216095680
+MAP	SETUP	556000
+MAP	SETUP_MEM	216095680
+MAP	CLEANUP	94000
+MAP	CLEANUP_MEM	222723360
+MAP	TOTAL_RUN	34760761000
+MAP	READ	5746242000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	13421770
+MAP	VALUE_BYTE_COUNT	118111576
+MAP	MAP	23886181000
+MAP	WRITE	10704101000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	3258674000
+MAP	SERIALIZE_OUTPUT	3774846000
+MAP	MAP_MEM	222723360
+SPILL	SORT_AND_SPILL	33341529000
+SPILL	QUICK_SORT	3199323000
+SPILL	SORT_COUNT	1342177
+SPILL	COMBINE	0
+SPILL	WRITE	30142206000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136902108
+SPILL	COMPRESS_BYTE_COUNT	20076351
+MERGE	TOTAL_MERGE	1623000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	68738460000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00022	0
+MAP	STARTUP_MEM	215218824
+MAP	SETUP	531000
+MAP	SETUP_MEM	215218824
+MAP	CLEANUP	94000
+MAP	CLEANUP_MEM	223351720
+MAP	TOTAL_RUN	44688085143
+MAP	READ	7585221000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	13421780
+MAP	VALUE_BYTE_COUNT	118111664
+MAP	MAP	26999014143
+MAP	WRITE	14495237143
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	3342945000
+MAP	SERIALIZE_OUTPUT	3599856000
+MAP	MAP_MEM	223913880
+SPILL	SORT_AND_SPILL	20713356000
+SPILL	QUICK_SORT	3178591000
+SPILL	SORT_COUNT	1342178
+SPILL	COMBINE	0
+SPILL	WRITE	17534765000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136902210
+SPILL	COMPRESS_BYTE_COUNT	20068092
+MERGE	TOTAL_MERGE	1791000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	65882142143
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00022	0
+MAP	STARTUP_MEM	216100640
+MAP	SETUP	533000
+MAP	SETUP_MEM	216100640
+MAP	CLEANUP	96000
+MAP	CLEANUP_MEM	222658344
+MAP	TOTAL_RUN	26263507000
+MAP	READ	4179256000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	13421770
+MAP	VALUE_BYTE_COUNT	118111576
+MAP	MAP	16376487000
+MAP	WRITE	6129914000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1182464000
+MAP	SERIALIZE_OUTPUT	2126643000
+MAP	MAP_MEM	222658344
+SPILL	SORT_AND_SPILL	23565572000
+SPILL	QUICK_SORT	4540945000
+SPILL	SORT_COUNT	1342177
+SPILL	COMBINE	0
+SPILL	WRITE	19024627000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136902108
+SPILL	COMPRESS_BYTE_COUNT	20078195
+MERGE	TOTAL_MERGE	1677000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	50500305000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00023	0
+MAP	STARTUP_MEM	216115928
+MAP	SETUP	528000
+MAP	SETUP_MEM	216115928
+MAP	CLEANUP	99000
+MAP	CLEANUP_MEM	223340528
+MAP	TOTAL_RUN	42802131000
+MAP	READ	9919277000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	13421780
+MAP	VALUE_BYTE_COUNT	118111664
+MAP	MAP	27627565000
+MAP	WRITE	12789243000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	2376094000
+MAP	SERIALIZE_OUTPUT	4779448000
+MAP	MAP_MEM	223340528
+SPILL	SORT_AND_SPILL	31799371000
+SPILL	QUICK_SORT	8520960000
+SPILL	SORT_COUNT	1342178
+SPILL	COMBINE	0
+SPILL	WRITE	23278411000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136902210
+SPILL	COMPRESS_BYTE_COUNT	20068310
+MERGE	TOTAL_MERGE	1760000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	75188769000
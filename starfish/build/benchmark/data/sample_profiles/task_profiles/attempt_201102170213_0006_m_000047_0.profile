@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00023	0
+MAP	STARTUP_MEM	215224888
+MAP	SETUP	502000
+MAP	SETUP_MEM	215224888
+MAP	CLEANUP	100000
+MAP	CLEANUP_MEM	222093008
+MAP	TOTAL_RUN	48464963000
+MAP	READ	9946929000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	13421770
+MAP	VALUE_BYTE_COUNT	118111576
+MAP	MAP	28141325000
+MAP	WRITE	13149536000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1819055000
+MAP	SERIALIZE_OUTPUT	3525425000
+MAP	MAP_MEM	222093008
+SPILL	SORT_AND_SPILL	19955646918
+SPILL	QUICK_SORT	3360607918
+SPILL	SORT_COUNT	1342177
+SPILL	COMBINE	0
+SPILL	WRITE	16595039000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136902108
+SPILL	COMPRESS_BYTE_COUNT	20080262
+MERGE	TOTAL_MERGE	47375000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	69186490918
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00024	0
+MAP	STARTUP_MEM	216064368
+MAP	SETUP	542000
+MAP	SETUP_MEM	216064368
+MAP	CLEANUP	102000
+MAP	CLEANUP_MEM	222683304
+MAP	TOTAL_RUN	29824103000
+MAP	READ	6721210000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	13421780
+MAP	VALUE_BYTE_COUNT	118111664
+MAP	MAP	17966103000
+MAP	WRITE	7233403000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1575857000
+MAP	SERIALIZE_OUTPUT	2261649000
+MAP	MAP_MEM	222683304
+SPILL	SORT_AND_SPILL	25053733000
+SPILL	QUICK_SORT	3218739000
+SPILL	SORT_COUNT	1342178
+SPILL	COMBINE	0
+SPILL	WRITE	21834994000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136902210
+SPILL	COMPRESS_BYTE_COUNT	20069366
+MERGE	TOTAL_MERGE	1580000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	55382733000
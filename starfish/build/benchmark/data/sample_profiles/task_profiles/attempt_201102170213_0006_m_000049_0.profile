@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00024	0
+MAP	STARTUP_MEM	216156424
+MAP	SETUP	529000
+MAP	SETUP_MEM	216156424
+MAP	CLEANUP	103000
+MAP	CLEANUP_MEM	222636520
+MAP	TOTAL_RUN	32096062000
+MAP	READ	5948986000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	13421770
+MAP	VALUE_BYTE_COUNT	118111576
+MAP	MAP	19484526000
+MAP	WRITE	8857038000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1729268000
+MAP	SERIALIZE_OUTPUT	2581481000
+MAP	MAP_MEM	222636520
+SPILL	SORT_AND_SPILL	24029956143
+SPILL	QUICK_SORT	7749999000
+SPILL	SORT_COUNT	1342177
+SPILL	COMBINE	0
+SPILL	WRITE	16279957143
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136902108
+SPILL	COMPRESS_BYTE_COUNT	20080351
+MERGE	TOTAL_MERGE	1692000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	57005816143
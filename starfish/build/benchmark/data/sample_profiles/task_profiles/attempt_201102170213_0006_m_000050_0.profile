@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00025	0
+MAP	STARTUP_MEM	216048216
+MAP	SETUP	501000
+MAP	SETUP_MEM	216048216
+MAP	CLEANUP	133000
+MAP	CLEANUP_MEM	223912696
+MAP	TOTAL_RUN	37239549000
+MAP	READ	10201666000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	13421780
+MAP	VALUE_BYTE_COUNT	118111664
+MAP	MAP	20821559000
+MAP	WRITE	9458145000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1404703000
+MAP	SERIALIZE_OUTPUT	4658528000
+MAP	MAP_MEM	223912696
+SPILL	SORT_AND_SPILL	26956005000
+SPILL	QUICK_SORT	5850559000
+SPILL	SORT_COUNT	1342178
+SPILL	COMBINE	0
+SPILL	WRITE	21105446000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136902210
+SPILL	COMPRESS_BYTE_COUNT	20070645
+MERGE	TOTAL_MERGE	1655000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	64797487000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00025	0
+MAP	STARTUP_MEM	215224856
+MAP	SETUP	506000
+MAP	SETUP_MEM	215224856
+MAP	CLEANUP	101000
+MAP	CLEANUP_MEM	222653168
+MAP	TOTAL_RUN	54822244000
+MAP	READ	11186005000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	13421770
+MAP	VALUE_BYTE_COUNT	118111576
+MAP	MAP	33786968000
+MAP	WRITE	18893556000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	2563219000
+MAP	SERIALIZE_OUTPUT	7224207000
+MAP	MAP_MEM	222653168
+SPILL	SORT_AND_SPILL	32693046798
+SPILL	QUICK_SORT	3268090798
+SPILL	SORT_COUNT	1342177
+SPILL	COMBINE	0
+SPILL	WRITE	29424956000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136902108
+SPILL	COMPRESS_BYTE_COUNT	20077866
+MERGE	TOTAL_MERGE	1743000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	89626350798
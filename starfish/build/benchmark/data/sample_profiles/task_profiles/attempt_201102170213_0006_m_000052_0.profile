@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00026	0
+MAP	STARTUP_MEM	216063776
+MAP	SETUP	457000
+MAP	SETUP_MEM	216063776
+MAP	CLEANUP	102000
+MAP	CLEANUP_MEM	222104464
+MAP	TOTAL_RUN	42538382000
+MAP	READ	5994932000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	13421780
+MAP	VALUE_BYTE_COUNT	118111664
+MAP	MAP	29547340000
+MAP	WRITE	11309919000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	2435732000
+MAP	SERIALIZE_OUTPUT	3382801000
+MAP	MAP_MEM	222104464
+SPILL	SORT_AND_SPILL	26487486000
+SPILL	QUICK_SORT	5668135000
+SPILL	SORT_COUNT	1342178
+SPILL	COMBINE	0
+SPILL	WRITE	20819351000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136902210
+SPILL	COMPRESS_BYTE_COUNT	20070017
+MERGE	TOTAL_MERGE	1640000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	69614116000
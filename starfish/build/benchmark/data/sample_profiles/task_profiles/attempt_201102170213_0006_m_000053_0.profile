@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00026	0
+MAP	STARTUP_MEM	215213936
+MAP	SETUP	482000
+MAP	SETUP_MEM	215213936
+MAP	CLEANUP	91000
+MAP	CLEANUP_MEM	223340504
+MAP	TOTAL_RUN	32132285000
+MAP	READ	5574379000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	13421770
+MAP	VALUE_BYTE_COUNT	118111576
+MAP	MAP	17991511000
+MAP	WRITE	8790809000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1478743000
+MAP	SERIALIZE_OUTPUT	2730137000
+MAP	MAP_MEM	223902664
+SPILL	SORT_AND_SPILL	30167131000
+SPILL	QUICK_SORT	6359764000
+SPILL	SORT_COUNT	1342177
+SPILL	COMBINE	0
+SPILL	WRITE	23807367000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136902108
+SPILL	COMPRESS_BYTE_COUNT	20076267
+MERGE	TOTAL_MERGE	1652000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	63953971000
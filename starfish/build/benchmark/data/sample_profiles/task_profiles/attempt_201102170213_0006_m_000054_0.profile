@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00027	0
+MAP	STARTUP_MEM	216049688
+MAP	SETUP	575000
+MAP	SETUP_MEM	216049688
+MAP	CLEANUP	91000
+MAP	CLEANUP_MEM	223918632
+MAP	TOTAL_RUN	50253942000
+MAP	READ	9102617000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	13421780
+MAP	VALUE_BYTE_COUNT	118111664
+MAP	MAP	32127949000
+MAP	WRITE	13916092000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	2203306000
+MAP	SERIALIZE_OUTPUT	4080093000
+MAP	MAP_MEM	223918632
+SPILL	SORT_AND_SPILL	21446104000
+SPILL	QUICK_SORT	3788106000
+SPILL	SORT_COUNT	1342178
+SPILL	COMBINE	0
+SPILL	WRITE	17657998000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136902210
+SPILL	COMPRESS_BYTE_COUNT	20067575
+MERGE	TOTAL_MERGE	1715000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	72210127000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00027	0
+MAP	STARTUP_MEM	216069528
+MAP	SETUP	502000
+MAP	SETUP_MEM	216069528
+MAP	CLEANUP	103000
+MAP	CLEANUP_MEM	222959600
+MAP	TOTAL_RUN	31527008000
+MAP	READ	7405626000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	13421770
+MAP	VALUE_BYTE_COUNT	118111576
+MAP	MAP	18208148000
+MAP	WRITE	7325755000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1781687000
+MAP	SERIALIZE_OUTPUT	2136831000
+MAP	MAP_MEM	222959600
+SPILL	SORT_AND_SPILL	19530870000
+SPILL	QUICK_SORT	3359008000
+SPILL	SORT_COUNT	1342177
+SPILL	COMBINE	0
+SPILL	WRITE	16171862000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136902108
+SPILL	COMPRESS_BYTE_COUNT	20079437
+MERGE	TOTAL_MERGE	1834000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	52691541000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00028	0
+MAP	STARTUP_MEM	215287360
+MAP	SETUP	484000
+MAP	SETUP_MEM	215287360
+MAP	CLEANUP	100000
+MAP	CLEANUP_MEM	222700536
+MAP	TOTAL_RUN	42272213000
+MAP	READ	7950891000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	13421780
+MAP	VALUE_BYTE_COUNT	118111664
+MAP	MAP	25487828000
+MAP	WRITE	10836446000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	2460402000
+MAP	SERIALIZE_OUTPUT	3201585000
+MAP	MAP_MEM	222700536
+SPILL	SORT_AND_SPILL	25527618798
+SPILL	QUICK_SORT	6792845000
+SPILL	SORT_COUNT	1342178
+SPILL	COMBINE	0
+SPILL	WRITE	18734773798
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136902210
+SPILL	COMPRESS_BYTE_COUNT	20070838
+MERGE	TOTAL_MERGE	1704000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	68692716798
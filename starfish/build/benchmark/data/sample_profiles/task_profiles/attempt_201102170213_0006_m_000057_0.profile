@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00028	0
+MAP	STARTUP_MEM	216045000
+MAP	SETUP	500000
+MAP	SETUP_MEM	216045000
+MAP	CLEANUP	93000
+MAP	CLEANUP_MEM	223346744
+MAP	TOTAL_RUN	46772068000
+MAP	READ	11738553000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	13421770
+MAP	VALUE_BYTE_COUNT	118111576
+MAP	MAP	24765642000
+MAP	WRITE	7997688000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1280673000
+MAP	SERIALIZE_OUTPUT	2101067000
+MAP	MAP_MEM	223346744
+SPILL	SORT_AND_SPILL	22237027000
+SPILL	QUICK_SORT	5283319000
+SPILL	SORT_COUNT	1342177
+SPILL	COMBINE	0
+SPILL	WRITE	16953708000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136902108
+SPILL	COMPRESS_BYTE_COUNT	20079098
+MERGE	TOTAL_MERGE	1612000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	69633520000
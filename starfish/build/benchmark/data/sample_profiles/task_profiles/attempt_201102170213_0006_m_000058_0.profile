@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00029	0
+MAP	STARTUP_MEM	215180488
+MAP	SETUP	452000
+MAP	SETUP_MEM	215180488
+MAP	CLEANUP	86000
+MAP	CLEANUP_MEM	224627656
+MAP	TOTAL_RUN	33548088000
+MAP	READ	6283881000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	13421780
+MAP	VALUE_BYTE_COUNT	118111664
+MAP	MAP	17934421000
+MAP	WRITE	7039338000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1289725000
+MAP	SERIALIZE_OUTPUT	2178231000
+MAP	MAP_MEM	224627656
+SPILL	SORT_AND_SPILL	31663520000
+SPILL	QUICK_SORT	3146517000
+SPILL	SORT_COUNT	1342178
+SPILL	COMBINE	0
+SPILL	WRITE	28517003000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136902210
+SPILL	COMPRESS_BYTE_COUNT	20069568
+MERGE	TOTAL_MERGE	1702000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	65753902000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00029	0
+MAP	STARTUP_MEM	216096192
+MAP	SETUP	490000
+MAP	SETUP_MEM	216096192
+MAP	CLEANUP	93000
+MAP	CLEANUP_MEM	223340648
+MAP	TOTAL_RUN	46279361000
+MAP	READ	10601902000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	13421770
+MAP	VALUE_BYTE_COUNT	118111576
+MAP	MAP	28798032000
+MAP	WRITE	13947531000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1564745000
+MAP	SERIALIZE_OUTPUT	2817097000
+MAP	MAP_MEM	223902808
+SPILL	SORT_AND_SPILL	26559192000
+SPILL	QUICK_SORT	5073846000
+SPILL	SORT_COUNT	1342177
+SPILL	COMBINE	0
+SPILL	WRITE	21485346000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136902108
+SPILL	COMPRESS_BYTE_COUNT	20078384
+MERGE	TOTAL_MERGE	1649000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	73384552000
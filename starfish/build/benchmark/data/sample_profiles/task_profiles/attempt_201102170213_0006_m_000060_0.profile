@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00030	0
+MAP	STARTUP_MEM	215208016
+MAP	SETUP	450000
+MAP	SETUP_MEM	215208016
+MAP	CLEANUP	90000
+MAP	CLEANUP_MEM	223344520
+MAP	TOTAL_RUN	34153828000
+MAP	READ	4646335000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	13421780
+MAP	VALUE_BYTE_COUNT	118111664
+MAP	MAP	24361744000
+MAP	WRITE	8712679000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1670963000
+MAP	SERIALIZE_OUTPUT	2356767000
+MAP	MAP_MEM	223344520
+SPILL	SORT_AND_SPILL	23293752000
+SPILL	QUICK_SORT	5119082000
+SPILL	SORT_COUNT	1342178
+SPILL	COMBINE	0
+SPILL	WRITE	18174670000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136902210
+SPILL	COMPRESS_BYTE_COUNT	20067829
+MERGE	TOTAL_MERGE	1611000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	58799058000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00030	0
+MAP	STARTUP_MEM	215245416
+MAP	SETUP	473000
+MAP	SETUP_MEM	215245416
+MAP	CLEANUP	96000
+MAP	CLEANUP_MEM	223355400
+MAP	TOTAL_RUN	48486010000
+MAP	READ	7768637000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	13421770
+MAP	VALUE_BYTE_COUNT	118111576
+MAP	MAP	30485145000
+MAP	WRITE	13648371000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1466739000
+MAP	SERIALIZE_OUTPUT	5672859000
+MAP	MAP_MEM	223917560
+SPILL	SORT_AND_SPILL	25710791000
+SPILL	QUICK_SORT	3494938000
+SPILL	SORT_COUNT	1342177
+SPILL	COMBINE	0
+SPILL	WRITE	22215853000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136902108
+SPILL	COMPRESS_BYTE_COUNT	20080002
+MERGE	TOTAL_MERGE	2278000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	74862463000
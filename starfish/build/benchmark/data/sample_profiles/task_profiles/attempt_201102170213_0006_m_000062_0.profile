@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00031	0
+MAP	STARTUP_MEM	215153904
+MAP	SETUP	795000
+MAP	SETUP_MEM	215153904
+MAP	CLEANUP	89000
+MAP	CLEANUP_MEM	222140232
+MAP	TOTAL_RUN	46080969000
+MAP	READ	10538067000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	13421780
+MAP	VALUE_BYTE_COUNT	118111664
+MAP	MAP	26039095000
+MAP	WRITE	9472622000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	2439838000
+MAP	SERIALIZE_OUTPUT	3344393000
+MAP	MAP_MEM	223401296
+SPILL	SORT_AND_SPILL	25017000000
+SPILL	QUICK_SORT	6362490000
+SPILL	SORT_COUNT	1342178
+SPILL	COMBINE	0
+SPILL	WRITE	18654510000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136902210
+SPILL	COMPRESS_BYTE_COUNT	20071572
+MERGE	TOTAL_MERGE	1685000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	71670691000
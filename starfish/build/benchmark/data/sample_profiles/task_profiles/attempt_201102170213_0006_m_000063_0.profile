@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00031	0
+MAP	STARTUP_MEM	216097624
+MAP	SETUP	520000
+MAP	SETUP_MEM	216097624
+MAP	CLEANUP	99000
+MAP	CLEANUP_MEM	223341768
+MAP	TOTAL_RUN	43559757000
+MAP	READ	8811407000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	13421770
+MAP	VALUE_BYTE_COUNT	118111576
+MAP	MAP	24877500000
+MAP	WRITE	12277637000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	3436230000
+MAP	SERIALIZE_OUTPUT	2222412000
+MAP	MAP_MEM	223903928
+SPILL	SORT_AND_SPILL	23181983000
+SPILL	QUICK_SORT	3630433000
+SPILL	SORT_COUNT	1342177
+SPILL	COMBINE	0
+SPILL	WRITE	19551550000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136902108
+SPILL	COMPRESS_BYTE_COUNT	20079664
+MERGE	TOTAL_MERGE	1586000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	67863758000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00032	0
+MAP	STARTUP_MEM	216088256
+MAP	SETUP	480000
+MAP	SETUP_MEM	216088256
+MAP	CLEANUP	95000
+MAP	CLEANUP_MEM	222128816
+MAP	TOTAL_RUN	29021527000
+MAP	READ	4280131000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	13421780
+MAP	VALUE_BYTE_COUNT	118111664
+MAP	MAP	19976822000
+MAP	WRITE	7382285000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1273253000
+MAP	SERIALIZE_OUTPUT	2133875000
+MAP	MAP_MEM	222690976
+SPILL	SORT_AND_SPILL	27100557000
+SPILL	QUICK_SORT	5348859000
+SPILL	SORT_COUNT	1342178
+SPILL	COMBINE	0
+SPILL	WRITE	21751698000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136902210
+SPILL	COMPRESS_BYTE_COUNT	20070214
+MERGE	TOTAL_MERGE	1795000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	56586700000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00032	0
+MAP	STARTUP_MEM	216081824
+MAP	SETUP	502000
+MAP	SETUP_MEM	216081824
+MAP	CLEANUP	91000
+MAP	CLEANUP_MEM	222682920
+MAP	TOTAL_RUN	41113505000
+MAP	READ	9107346000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	13421770
+MAP	VALUE_BYTE_COUNT	118111576
+MAP	MAP	23514250000
+MAP	WRITE	10581542000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1913840000
+MAP	SERIALIZE_OUTPUT	4852302000
+MAP	MAP_MEM	222682920
+SPILL	SORT_AND_SPILL	26411032000
+SPILL	QUICK_SORT	8103222000
+SPILL	SORT_COUNT	1342177
+SPILL	COMBINE	0
+SPILL	WRITE	18307810000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136902108
+SPILL	COMPRESS_BYTE_COUNT	20079610
+MERGE	TOTAL_MERGE	1616000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	68059227000
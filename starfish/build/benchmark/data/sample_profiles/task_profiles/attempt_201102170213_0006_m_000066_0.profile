@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00033	0
+MAP	STARTUP_MEM	216120336
+MAP	SETUP	509000
+MAP	SETUP_MEM	216120336
+MAP	CLEANUP	101000
+MAP	CLEANUP_MEM	223974328
+MAP	TOTAL_RUN	45069909000
+MAP	READ	11832294000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	13421780
+MAP	VALUE_BYTE_COUNT	118111664
+MAP	MAP	27156139000
+MAP	WRITE	10666211000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1381443000
+MAP	SERIALIZE_OUTPUT	2245993000
+MAP	MAP_MEM	223974328
+SPILL	SORT_AND_SPILL	31575101000
+SPILL	QUICK_SORT	7630859000
+SPILL	SORT_COUNT	1342178
+SPILL	COMBINE	0
+SPILL	WRITE	23944242000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136902210
+SPILL	COMPRESS_BYTE_COUNT	19951722
+MERGE	TOTAL_MERGE	1689000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	77254154000
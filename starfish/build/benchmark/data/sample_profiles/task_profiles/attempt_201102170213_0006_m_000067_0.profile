@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00033	0
+MAP	STARTUP_MEM	216087424
+MAP	SETUP	502000
+MAP	SETUP_MEM	216087424
+MAP	CLEANUP	100000
+MAP	CLEANUP_MEM	222394888
+MAP	TOTAL_RUN	40565634000
+MAP	READ	9951664000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	13421770
+MAP	VALUE_BYTE_COUNT	118111576
+MAP	MAP	22587832000
+MAP	WRITE	10505970000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1253567000
+MAP	SERIALIZE_OUTPUT	2209188000
+MAP	MAP_MEM	222394888
+SPILL	SORT_AND_SPILL	25931375000
+SPILL	QUICK_SORT	3792132000
+SPILL	SORT_COUNT	1342177
+SPILL	COMBINE	0
+SPILL	WRITE	22139243000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136902108
+SPILL	COMPRESS_BYTE_COUNT	20078109
+MERGE	TOTAL_MERGE	1710000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	67152644000
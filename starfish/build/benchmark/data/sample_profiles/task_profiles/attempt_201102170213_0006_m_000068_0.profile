@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00034	0
+MAP	STARTUP_MEM	216048104
+MAP	SETUP	466000
+MAP	SETUP_MEM	216048104
+MAP	CLEANUP	114000
+MAP	CLEANUP_MEM	222657896
+MAP	TOTAL_RUN	38544351000
+MAP	READ	5818930000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	13421780
+MAP	VALUE_BYTE_COUNT	118111664
+MAP	MAP	26679749000
+MAP	WRITE	13168027000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1286010000
+MAP	SERIALIZE_OUTPUT	6384701000
+MAP	MAP_MEM	222657896
+SPILL	SORT_AND_SPILL	34693870000
+SPILL	QUICK_SORT	4196096000
+SPILL	SORT_COUNT	1342178
+SPILL	COMBINE	0
+SPILL	WRITE	30497774000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136902210
+SPILL	COMPRESS_BYTE_COUNT	20066371
+MERGE	TOTAL_MERGE	1767000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	73748091000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00034	0
+MAP	STARTUP_MEM	214962096
+MAP	SETUP	507000
+MAP	SETUP_MEM	214962096
+MAP	CLEANUP	94000
+MAP	CLEANUP_MEM	222079664
+MAP	TOTAL_RUN	38333668000
+MAP	READ	6493700000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	13421770
+MAP	VALUE_BYTE_COUNT	118111576
+MAP	MAP	22521948000
+MAP	WRITE	9904640000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	2223247000
+MAP	SERIALIZE_OUTPUT	2836247000
+MAP	MAP_MEM	222641824
+SPILL	SORT_AND_SPILL	23485705142
+SPILL	QUICK_SORT	4676645142
+SPILL	SORT_COUNT	1342177
+SPILL	COMBINE	0
+SPILL	WRITE	18809060000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136902108
+SPILL	COMPRESS_BYTE_COUNT	20077203
+MERGE	TOTAL_MERGE	1708000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	62412661142
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00035	0
+MAP	STARTUP_MEM	216094064
+MAP	SETUP	494000
+MAP	SETUP_MEM	216094064
+MAP	CLEANUP	94000
+MAP	CLEANUP_MEM	223889864
+MAP	TOTAL_RUN	50009626000
+MAP	READ	11772112000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	13421780
+MAP	VALUE_BYTE_COUNT	118111664
+MAP	MAP	28251482000
+MAP	WRITE	14247024000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	2762716000
+MAP	SERIALIZE_OUTPUT	4886790000
+MAP	MAP_MEM	223889864
+SPILL	SORT_AND_SPILL	22719717000
+SPILL	QUICK_SORT	4050979000
+SPILL	SORT_COUNT	1342178
+SPILL	COMBINE	0
+SPILL	WRITE	18668738000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136902210
+SPILL	COMPRESS_BYTE_COUNT	20066486
+MERGE	TOTAL_MERGE	1669000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	73559222000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00035	0
+MAP	STARTUP_MEM	215852984
+MAP	SETUP	506000
+MAP	SETUP_MEM	215852984
+MAP	CLEANUP	91000
+MAP	CLEANUP_MEM	222662016
+MAP	TOTAL_RUN	27259792000
+MAP	READ	4601523000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	13421770
+MAP	VALUE_BYTE_COUNT	118111576
+MAP	MAP	17793932000
+MAP	WRITE	7327867000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1276133000
+MAP	SERIALIZE_OUTPUT	2597780000
+MAP	MAP_MEM	222662016
+SPILL	SORT_AND_SPILL	29468188000
+SPILL	QUICK_SORT	4809710000
+SPILL	SORT_COUNT	1342177
+SPILL	COMBINE	0
+SPILL	WRITE	24658478000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136902108
+SPILL	COMPRESS_BYTE_COUNT	20080459
+MERGE	TOTAL_MERGE	1624000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	57778619000
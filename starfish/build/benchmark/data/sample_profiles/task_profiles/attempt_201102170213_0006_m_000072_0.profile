@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00036	0
+MAP	STARTUP_MEM	216088336
+MAP	SETUP	596000
+MAP	SETUP_MEM	216088336
+MAP	CLEANUP	93000
+MAP	CLEANUP_MEM	222663608
+MAP	TOTAL_RUN	39111622000
+MAP	READ	7253125000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	13421780
+MAP	VALUE_BYTE_COUNT	118111664
+MAP	MAP	24397089000
+MAP	WRITE	9541565000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1858241000
+MAP	SERIALIZE_OUTPUT	3120348000
+MAP	MAP_MEM	222663608
+SPILL	SORT_AND_SPILL	41189124798
+SPILL	QUICK_SORT	6160789798
+SPILL	SORT_COUNT	1342178
+SPILL	COMBINE	0
+SPILL	WRITE	35028335000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136902210
+SPILL	COMPRESS_BYTE_COUNT	20067966
+MERGE	TOTAL_MERGE	1695000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	81046381798
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00036	0
+MAP	STARTUP_MEM	214938304
+MAP	SETUP	507000
+MAP	SETUP_MEM	214938304
+MAP	CLEANUP	105000
+MAP	CLEANUP_MEM	222137152
+MAP	TOTAL_RUN	44964159000
+MAP	READ	14774437000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	13421770
+MAP	VALUE_BYTE_COUNT	118111576
+MAP	MAP	23613631000
+MAP	WRITE	10945984000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	5032823000
+MAP	SERIALIZE_OUTPUT	2542006000
+MAP	MAP_MEM	222699312
+SPILL	SORT_AND_SPILL	29997832000
+SPILL	QUICK_SORT	7935666000
+SPILL	SORT_COUNT	1342177
+SPILL	COMBINE	0
+SPILL	WRITE	22062166000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136902108
+SPILL	COMPRESS_BYTE_COUNT	20075213
+MERGE	TOTAL_MERGE	1671000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	75703534000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00037	0
+MAP	STARTUP_MEM	216107216
+MAP	SETUP	495000
+MAP	SETUP_MEM	216107216
+MAP	CLEANUP	100000
+MAP	CLEANUP_MEM	222183016
+MAP	TOTAL_RUN	27330211000
+MAP	READ	6028250000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	13421780
+MAP	VALUE_BYTE_COUNT	118111664
+MAP	MAP	16484233000
+MAP	WRITE	6467714000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1184141000
+MAP	SERIALIZE_OUTPUT	2173271000
+MAP	MAP_MEM	222745176
+SPILL	SORT_AND_SPILL	25478647000
+SPILL	QUICK_SORT	3298313000
+SPILL	SORT_COUNT	1342178
+SPILL	COMBINE	0
+SPILL	WRITE	22180334000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136902210
+SPILL	COMPRESS_BYTE_COUNT	20064944
+MERGE	TOTAL_MERGE	1622000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	53260477000
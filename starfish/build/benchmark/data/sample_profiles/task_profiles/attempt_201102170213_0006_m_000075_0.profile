@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00037	0
+MAP	STARTUP_MEM	216107944
+MAP	SETUP	484000
+MAP	SETUP_MEM	216107944
+MAP	CLEANUP	85000
+MAP	CLEANUP_MEM	223955128
+MAP	TOTAL_RUN	41771095000
+MAP	READ	5908360000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	13421770
+MAP	VALUE_BYTE_COUNT	118111576
+MAP	MAP	29378912000
+MAP	WRITE	13794749000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	2206460000
+MAP	SERIALIZE_OUTPUT	2331688000
+MAP	MAP_MEM	223955128
+SPILL	SORT_AND_SPILL	32552745000
+SPILL	QUICK_SORT	5841935000
+SPILL	SORT_COUNT	1342177
+SPILL	COMBINE	0
+SPILL	WRITE	26710810000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136902108
+SPILL	COMPRESS_BYTE_COUNT	20079516
+MERGE	TOTAL_MERGE	1604000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	75414320000
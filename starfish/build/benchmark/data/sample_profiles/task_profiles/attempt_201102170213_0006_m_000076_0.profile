@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00038	0
+MAP	STARTUP_MEM	216066448
+MAP	SETUP	517000
+MAP	SETUP_MEM	216066448
+MAP	CLEANUP	90000
+MAP	CLEANUP_MEM	222664896
+MAP	TOTAL_RUN	32657811142
+MAP	READ	5380474000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	13421780
+MAP	VALUE_BYTE_COUNT	118111664
+MAP	MAP	20049422142
+MAP	WRITE	8615158142
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1766537000
+MAP	SERIALIZE_OUTPUT	2314683000
+MAP	MAP_MEM	222664896
+SPILL	SORT_AND_SPILL	21827392000
+SPILL	QUICK_SORT	6091874000
+SPILL	SORT_COUNT	1342178
+SPILL	COMBINE	0
+SPILL	WRITE	15735518000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136902210
+SPILL	COMPRESS_BYTE_COUNT	20067288
+MERGE	TOTAL_MERGE	1709000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	55049842142
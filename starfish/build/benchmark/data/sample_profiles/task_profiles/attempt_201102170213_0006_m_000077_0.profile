@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00038	0
+MAP	STARTUP_MEM	215272936
+MAP	SETUP	803000
+MAP	SETUP_MEM	215272936
+MAP	CLEANUP	103000
+MAP	CLEANUP_MEM	222115216
+MAP	TOTAL_RUN	39192864863
+MAP	READ	10240514863
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	13421770
+MAP	VALUE_BYTE_COUNT	118111576
+MAP	MAP	22308077000
+MAP	WRITE	8954955000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1746521000
+MAP	SERIALIZE_OUTPUT	2742322000
+MAP	MAP_MEM	222677376
+SPILL	SORT_AND_SPILL	33843982000
+SPILL	QUICK_SORT	3685609000
+SPILL	SORT_COUNT	1342177
+SPILL	COMBINE	0
+SPILL	WRITE	30158373000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136902108
+SPILL	COMPRESS_BYTE_COUNT	20077788
+MERGE	TOTAL_MERGE	1629000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	73623749863
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00039	0
+MAP	STARTUP_MEM	216145240
+MAP	SETUP	477000
+MAP	SETUP_MEM	216145240
+MAP	CLEANUP	95000
+MAP	CLEANUP_MEM	222102320
+MAP	TOTAL_RUN	43012568000
+MAP	READ	8467317000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	13421780
+MAP	VALUE_BYTE_COUNT	118111664
+MAP	MAP	24579104000
+MAP	WRITE	8321264000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1277018000
+MAP	SERIALIZE_OUTPUT	2805816000
+MAP	MAP_MEM	222664480
+SPILL	SORT_AND_SPILL	23207847000
+SPILL	QUICK_SORT	5978925000
+SPILL	SORT_COUNT	1342178
+SPILL	COMBINE	0
+SPILL	WRITE	17228922000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136902210
+SPILL	COMPRESS_BYTE_COUNT	20068648
+MERGE	TOTAL_MERGE	1593000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	66964331000
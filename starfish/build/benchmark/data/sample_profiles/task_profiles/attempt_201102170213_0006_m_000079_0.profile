@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00039	0
+MAP	STARTUP_MEM	214967440
+MAP	SETUP	454000
+MAP	SETUP_MEM	214967440
+MAP	CLEANUP	89000
+MAP	CLEANUP_MEM	222086056
+MAP	TOTAL_RUN	38261807000
+MAP	READ	8987142000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	13421770
+MAP	VALUE_BYTE_COUNT	118111576
+MAP	MAP	22013655000
+MAP	WRITE	7924722000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1446210000
+MAP	SERIALIZE_OUTPUT	2948942000
+MAP	MAP_MEM	222648216
+SPILL	SORT_AND_SPILL	28351752000
+SPILL	QUICK_SORT	3428528000
+SPILL	SORT_COUNT	1342177
+SPILL	COMBINE	0
+SPILL	WRITE	24923224000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136902108
+SPILL	COMPRESS_BYTE_COUNT	20078597
+MERGE	TOTAL_MERGE	1650000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	67308933000
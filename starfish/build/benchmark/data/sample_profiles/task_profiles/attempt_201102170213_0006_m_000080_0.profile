@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00040	0
+MAP	STARTUP_MEM	216077560
+MAP	SETUP	456000
+MAP	SETUP_MEM	216077560
+MAP	CLEANUP	85000
+MAP	CLEANUP_MEM	222151192
+MAP	TOTAL_RUN	37788634000
+MAP	READ	6481382000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	13421780
+MAP	VALUE_BYTE_COUNT	118111664
+MAP	MAP	26166454000
+MAP	WRITE	11761346000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1330444000
+MAP	SERIALIZE_OUTPUT	4309615000
+MAP	MAP_MEM	222151192
+SPILL	SORT_AND_SPILL	30335041000
+SPILL	QUICK_SORT	6238671000
+SPILL	SORT_COUNT	1342178
+SPILL	COMBINE	0
+SPILL	WRITE	24096370000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136902210
+SPILL	COMPRESS_BYTE_COUNT	20065101
+MERGE	TOTAL_MERGE	1597000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	68622182000
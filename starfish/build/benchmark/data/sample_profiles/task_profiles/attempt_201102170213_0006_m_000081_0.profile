@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00040	0
+MAP	STARTUP_MEM	215272440
+MAP	SETUP	436000
+MAP	SETUP_MEM	215272440
+MAP	CLEANUP	102000
+MAP	CLEANUP_MEM	222155912
+MAP	TOTAL_RUN	44984272000
+MAP	READ	10618819000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	13421770
+MAP	VALUE_BYTE_COUNT	118111576
+MAP	MAP	24780781000
+MAP	WRITE	10787812000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1265150000
+MAP	SERIALIZE_OUTPUT	2226346000
+MAP	MAP_MEM	223975768
+SPILL	SORT_AND_SPILL	22127434000
+SPILL	QUICK_SORT	3651320000
+SPILL	SORT_COUNT	1342177
+SPILL	COMBINE	0
+SPILL	WRITE	18476114000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136902108
+SPILL	COMPRESS_BYTE_COUNT	20077028
+MERGE	TOTAL_MERGE	3264000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	67703495000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00041	0
+MAP	STARTUP_MEM	216062968
+MAP	SETUP	532000
+MAP	SETUP_MEM	216062968
+MAP	CLEANUP	111000
+MAP	CLEANUP_MEM	222087728
+MAP	TOTAL_RUN	36369827000
+MAP	READ	5810599000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	13421780
+MAP	VALUE_BYTE_COUNT	118111664
+MAP	MAP	24825400000
+MAP	WRITE	10815447000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1782189000
+MAP	SERIALIZE_OUTPUT	3479004000
+MAP	MAP_MEM	222649888
+SPILL	SORT_AND_SPILL	26929167000
+SPILL	QUICK_SORT	3204523000
+SPILL	SORT_COUNT	1342178
+SPILL	COMBINE	0
+SPILL	WRITE	23724644000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136902210
+SPILL	COMPRESS_BYTE_COUNT	20066788
+MERGE	TOTAL_MERGE	1628000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	64505320000
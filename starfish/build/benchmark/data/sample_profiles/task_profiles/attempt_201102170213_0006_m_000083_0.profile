@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00041	0
+MAP	STARTUP_MEM	215070720
+MAP	SETUP	676000
+MAP	SETUP_MEM	215070720
+MAP	CLEANUP	94000
+MAP	CLEANUP_MEM	222147984
+MAP	TOTAL_RUN	47549996000
+MAP	READ	10367684000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	13421770
+MAP	VALUE_BYTE_COUNT	118111576
+MAP	MAP	29233651000
+MAP	WRITE	10331034000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1583348000
+MAP	SERIALIZE_OUTPUT	3216615000
+MAP	MAP_MEM	222147984
+SPILL	SORT_AND_SPILL	29565141000
+SPILL	QUICK_SORT	3892049000
+SPILL	SORT_COUNT	1342177
+SPILL	COMBINE	0
+SPILL	WRITE	25673092000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136902108
+SPILL	COMPRESS_BYTE_COUNT	20079349
+MERGE	TOTAL_MERGE	1728000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	77942773000
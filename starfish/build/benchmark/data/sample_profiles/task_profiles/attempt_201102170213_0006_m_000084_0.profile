@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00042	0
+MAP	STARTUP_MEM	216148528
+MAP	SETUP	545000
+MAP	SETUP_MEM	216148528
+MAP	CLEANUP	94000
+MAP	CLEANUP_MEM	221981280
+MAP	TOTAL_RUN	57455666000
+MAP	READ	9225898000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	13421780
+MAP	VALUE_BYTE_COUNT	118111664
+MAP	MAP	34314871000
+MAP	WRITE	14706310000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	2335722000
+MAP	SERIALIZE_OUTPUT	4731814000
+MAP	MAP_MEM	222543440
+SPILL	SORT_AND_SPILL	43793442152
+SPILL	QUICK_SORT	4227014000
+SPILL	SORT_COUNT	1342178
+SPILL	COMBINE	0
+SPILL	WRITE	39566428152
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136902210
+SPILL	COMPRESS_BYTE_COUNT	20069423
+MERGE	TOTAL_MERGE	2218000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	103410909152
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00042	0
+MAP	STARTUP_MEM	215794632
+MAP	SETUP	527000
+MAP	SETUP_MEM	215794632
+MAP	CLEANUP	102000
+MAP	CLEANUP_MEM	223457432
+MAP	TOTAL_RUN	54559422295
+MAP	READ	10427206295
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	13421770
+MAP	VALUE_BYTE_COUNT	118111576
+MAP	MAP	27950389000
+MAP	WRITE	14111820000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	2837548000
+MAP	SERIALIZE_OUTPUT	3851501000
+MAP	MAP_MEM	223457432
+SPILL	SORT_AND_SPILL	19397025000
+SPILL	QUICK_SORT	3738206000
+SPILL	SORT_COUNT	1342177
+SPILL	COMBINE	0
+SPILL	WRITE	15658819000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136902108
+SPILL	COMPRESS_BYTE_COUNT	20078375
+MERGE	TOTAL_MERGE	1634000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	74525493295
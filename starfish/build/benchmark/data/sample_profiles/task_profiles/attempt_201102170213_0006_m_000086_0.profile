@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00043	0
+MAP	STARTUP_MEM	216116096
+MAP	SETUP	616000
+MAP	SETUP_MEM	216116096
+MAP	CLEANUP	117000
+MAP	CLEANUP_MEM	222084416
+MAP	TOTAL_RUN	43725553000
+MAP	READ	14443293000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	13421780
+MAP	VALUE_BYTE_COUNT	118111664
+MAP	MAP	22336751000
+MAP	WRITE	7203772000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1231807000
+MAP	SERIALIZE_OUTPUT	2135510000
+MAP	MAP_MEM	222084416
+SPILL	SORT_AND_SPILL	34476720000
+SPILL	QUICK_SORT	4591514000
+SPILL	SORT_COUNT	1342178
+SPILL	COMBINE	0
+SPILL	WRITE	29885206000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136902210
+SPILL	COMPRESS_BYTE_COUNT	20066988
+MERGE	TOTAL_MERGE	1859000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	78764516000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00043	0
+MAP	STARTUP_MEM	215164048
+MAP	SETUP	513000
+MAP	SETUP_MEM	215164048
+MAP	CLEANUP	103000
+MAP	CLEANUP_MEM	222093768
+MAP	TOTAL_RUN	35854338000
+MAP	READ	8083640000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	13421770
+MAP	VALUE_BYTE_COUNT	118111576
+MAP	MAP	20977132000
+MAP	WRITE	9286322000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1709980000
+MAP	SERIALIZE_OUTPUT	2610694000
+MAP	MAP_MEM	222655928
+SPILL	SORT_AND_SPILL	31524166000
+SPILL	QUICK_SORT	6244220000
+SPILL	SORT_COUNT	1342177
+SPILL	COMBINE	0
+SPILL	WRITE	25279946000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136902108
+SPILL	COMPRESS_BYTE_COUNT	20078558
+MERGE	TOTAL_MERGE	1769000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	68157426000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00044	0
+MAP	STARTUP_MEM	216132048
+MAP	SETUP	493000
+MAP	SETUP_MEM	216132048
+MAP	CLEANUP	90000
+MAP	CLEANUP_MEM	223393032
+MAP	TOTAL_RUN	50660822000
+MAP	READ	8126545000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	13421780
+MAP	VALUE_BYTE_COUNT	118111664
+MAP	MAP	30095587000
+MAP	WRITE	14866627000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	3651141000
+MAP	SERIALIZE_OUTPUT	2477042000
+MAP	MAP_MEM	223955192
+SPILL	SORT_AND_SPILL	27668106000
+SPILL	QUICK_SORT	5459316000
+SPILL	SORT_COUNT	1342178
+SPILL	COMBINE	0
+SPILL	WRITE	22208790000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136902210
+SPILL	COMPRESS_BYTE_COUNT	20065026
+MERGE	TOTAL_MERGE	1596000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	79830511000
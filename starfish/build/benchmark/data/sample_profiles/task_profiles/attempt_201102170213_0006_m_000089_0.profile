@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00044	0
+MAP	STARTUP_MEM	215415696
+MAP	SETUP	516000
+MAP	SETUP_MEM	215415696
+MAP	CLEANUP	109000
+MAP	CLEANUP_MEM	220848248
+MAP	TOTAL_RUN	32750466000
+MAP	READ	10282997000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	13421770
+MAP	VALUE_BYTE_COUNT	118111576
+MAP	MAP	17453650000
+MAP	WRITE	6176084000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1286592000
+MAP	SERIALIZE_OUTPUT	1770438000
+MAP	MAP_MEM	220848248
+SPILL	SORT_AND_SPILL	21630281000
+SPILL	QUICK_SORT	3395470000
+SPILL	SORT_COUNT	1342177
+SPILL	COMBINE	0
+SPILL	WRITE	18234811000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136902108
+SPILL	COMPRESS_BYTE_COUNT	20074725
+MERGE	TOTAL_MERGE	1733000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	61997795000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00045	0
+MAP	STARTUP_MEM	216099744
+MAP	SETUP	487000
+MAP	SETUP_MEM	216099744
+MAP	CLEANUP	94000
+MAP	CLEANUP_MEM	222678216
+MAP	TOTAL_RUN	30398733000
+MAP	READ	6445308000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	13421780
+MAP	VALUE_BYTE_COUNT	118111664
+MAP	MAP	18292101000
+MAP	WRITE	8662589000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1700228000
+MAP	SERIALIZE_OUTPUT	2116227000
+MAP	MAP_MEM	222678216
+SPILL	SORT_AND_SPILL	46092087000
+SPILL	QUICK_SORT	3060368000
+SPILL	SORT_COUNT	1342178
+SPILL	COMBINE	0
+SPILL	WRITE	43031719000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136902210
+SPILL	COMPRESS_BYTE_COUNT	20069607
+MERGE	TOTAL_MERGE	1595000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	77698904000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00045	0
+MAP	STARTUP_MEM	215828528
+MAP	SETUP	488000
+MAP	SETUP_MEM	215828528
+MAP	CLEANUP	105000
+MAP	CLEANUP_MEM	225054776
+MAP	TOTAL_RUN	40127659798
+MAP	READ	8477447000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	13421770
+MAP	VALUE_BYTE_COUNT	118111576
+MAP	MAP	22549195000
+MAP	WRITE	9624859000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1874978000
+MAP	SERIALIZE_OUTPUT	2343288000
+MAP	MAP_MEM	225054776
+SPILL	SORT_AND_SPILL	49496975646
+SPILL	QUICK_SORT	3458679000
+SPILL	SORT_COUNT	1342177
+SPILL	COMBINE	0
+SPILL	WRITE	46038296646
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136902108
+SPILL	COMPRESS_BYTE_COUNT	20078047
+MERGE	TOTAL_MERGE	1635000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	93941852444
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00046	0
+MAP	STARTUP_MEM	216091520
+MAP	SETUP	474000
+MAP	SETUP_MEM	216091520
+MAP	CLEANUP	97000
+MAP	CLEANUP_MEM	224104000
+MAP	TOTAL_RUN	60838468000
+MAP	READ	18069345000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	13421780
+MAP	VALUE_BYTE_COUNT	118111664
+MAP	MAP	29554572000
+MAP	WRITE	7426482000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	2302750000
+MAP	SERIALIZE_OUTPUT	2054523000
+MAP	MAP_MEM	224104000
+SPILL	SORT_AND_SPILL	23001146000
+SPILL	QUICK_SORT	4194952000
+SPILL	SORT_COUNT	1342178
+SPILL	COMBINE	0
+SPILL	WRITE	18806194000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136902210
+SPILL	COMPRESS_BYTE_COUNT	20069521
+MERGE	TOTAL_MERGE	1619000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	84411538000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00046	0
+MAP	STARTUP_MEM	214938008
+MAP	SETUP	490000
+MAP	SETUP_MEM	214938008
+MAP	CLEANUP	97000
+MAP	CLEANUP_MEM	222143904
+MAP	TOTAL_RUN	46983068295
+MAP	READ	8216493295
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	13421770
+MAP	VALUE_BYTE_COUNT	118111576
+MAP	MAP	30478247000
+MAP	WRITE	15401689000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	3110966000
+MAP	SERIALIZE_OUTPUT	5658315000
+MAP	MAP_MEM	222143904
+SPILL	SORT_AND_SPILL	22668256000
+SPILL	QUICK_SORT	3772316000
+SPILL	SORT_COUNT	1342177
+SPILL	COMBINE	0
+SPILL	WRITE	18895940000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136902108
+SPILL	COMPRESS_BYTE_COUNT	20077123
+MERGE	TOTAL_MERGE	1640000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	71200437295
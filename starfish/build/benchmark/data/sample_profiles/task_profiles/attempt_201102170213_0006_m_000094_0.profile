@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00047	0
+MAP	STARTUP_MEM	216103368
+MAP	SETUP	458000
+MAP	SETUP_MEM	216103368
+MAP	CLEANUP	90000
+MAP	CLEANUP_MEM	223386752
+MAP	TOTAL_RUN	24705872000
+MAP	READ	3926173000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	13421780
+MAP	VALUE_BYTE_COUNT	118111664
+MAP	MAP	16132743000
+MAP	WRITE	6298058000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1178363000
+MAP	SERIALIZE_OUTPUT	2052958000
+MAP	MAP_MEM	223948912
+SPILL	SORT_AND_SPILL	19364699000
+SPILL	QUICK_SORT	3149581000
+SPILL	SORT_COUNT	1342178
+SPILL	COMBINE	0
+SPILL	WRITE	16215118000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136902210
+SPILL	COMPRESS_BYTE_COUNT	20066512
+MERGE	TOTAL_MERGE	1637000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	44550740000
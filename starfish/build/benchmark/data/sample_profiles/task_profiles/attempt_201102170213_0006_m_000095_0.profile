@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00047	0
+MAP	STARTUP_MEM	216096200
+MAP	SETUP	533000
+MAP	SETUP_MEM	216096200
+MAP	CLEANUP	102000
+MAP	CLEANUP_MEM	222184112
+MAP	TOTAL_RUN	50824339863
+MAP	READ	12759440863
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	13421770
+MAP	VALUE_BYTE_COUNT	118111576
+MAP	MAP	30190736000
+MAP	WRITE	12585201000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	2963086000
+MAP	SERIALIZE_OUTPUT	3485818000
+MAP	MAP_MEM	222746272
+SPILL	SORT_AND_SPILL	39957050318
+SPILL	QUICK_SORT	3357797000
+SPILL	SORT_COUNT	1342177
+SPILL	COMBINE	0
+SPILL	WRITE	36599253318
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136902108
+SPILL	COMPRESS_BYTE_COUNT	20077699
+MERGE	TOTAL_MERGE	3389397000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	99540448181
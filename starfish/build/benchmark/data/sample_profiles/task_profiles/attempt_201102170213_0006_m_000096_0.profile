@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00048	0
+MAP	STARTUP_MEM	216099104
+MAP	SETUP	518000
+MAP	SETUP_MEM	216099104
+MAP	CLEANUP	179000
+MAP	CLEANUP_MEM	222159408
+MAP	TOTAL_RUN	27190518000
+MAP	READ	4720342000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	13421780
+MAP	VALUE_BYTE_COUNT	118111664
+MAP	MAP	17786687000
+MAP	WRITE	6671178000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1459705000
+MAP	SERIALIZE_OUTPUT	2142031000
+MAP	MAP_MEM	222721568
+SPILL	SORT_AND_SPILL	29640231000
+SPILL	QUICK_SORT	3104211000
+SPILL	SORT_COUNT	1342178
+SPILL	COMBINE	0
+SPILL	WRITE	26536020000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136902210
+SPILL	COMPRESS_BYTE_COUNT	20068122
+MERGE	TOTAL_MERGE	1647000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	58221199000
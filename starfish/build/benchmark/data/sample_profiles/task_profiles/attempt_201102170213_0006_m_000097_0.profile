@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00048	0
+MAP	STARTUP_MEM	216107472
+MAP	SETUP	538000
+MAP	SETUP_MEM	216107472
+MAP	CLEANUP	103000
+MAP	CLEANUP_MEM	222133456
+MAP	TOTAL_RUN	37950102000
+MAP	READ	7557787000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	13421770
+MAP	VALUE_BYTE_COUNT	118111576
+MAP	MAP	24968160000
+MAP	WRITE	9741394000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1309586000
+MAP	SERIALIZE_OUTPUT	4382783000
+MAP	MAP_MEM	222133456
+SPILL	SORT_AND_SPILL	44071109000
+SPILL	QUICK_SORT	7047294000
+SPILL	SORT_COUNT	1342177
+SPILL	COMBINE	0
+SPILL	WRITE	37023815000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136902108
+SPILL	COMPRESS_BYTE_COUNT	20076988
+MERGE	TOTAL_MERGE	1661000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	82672424000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00049	0
+MAP	STARTUP_MEM	216134488
+MAP	SETUP	593000
+MAP	SETUP_MEM	216134488
+MAP	CLEANUP	100000
+MAP	CLEANUP_MEM	223992224
+MAP	TOTAL_RUN	45076924000
+MAP	READ	13004042000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	13421780
+MAP	VALUE_BYTE_COUNT	118111664
+MAP	MAP	24547875000
+MAP	WRITE	8238187000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1315543000
+MAP	SERIALIZE_OUTPUT	2552135000
+MAP	MAP_MEM	223992224
+SPILL	SORT_AND_SPILL	28317987000
+SPILL	QUICK_SORT	6883182000
+SPILL	SORT_COUNT	1342178
+SPILL	COMBINE	0
+SPILL	WRITE	21434805000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136902210
+SPILL	COMPRESS_BYTE_COUNT	20068322
+MERGE	TOTAL_MERGE	1673000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	73931453000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00049	0
+MAP	STARTUP_MEM	216069712
+MAP	SETUP	534000
+MAP	SETUP_MEM	216069712
+MAP	CLEANUP	108000
+MAP	CLEANUP_MEM	224082352
+MAP	TOTAL_RUN	51636468000
+MAP	READ	16128538000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	13421770
+MAP	VALUE_BYTE_COUNT	118111576
+MAP	MAP	26549782000
+MAP	WRITE	11078270000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1267288000
+MAP	SERIALIZE_OUTPUT	5830567000
+MAP	MAP_MEM	224082352
+SPILL	SORT_AND_SPILL	27713143000
+SPILL	QUICK_SORT	9061789000
+SPILL	SORT_COUNT	1342177
+SPILL	COMBINE	0
+SPILL	WRITE	18651354000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136902108
+SPILL	COMPRESS_BYTE_COUNT	20077952
+MERGE	TOTAL_MERGE	1603000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	80145472000
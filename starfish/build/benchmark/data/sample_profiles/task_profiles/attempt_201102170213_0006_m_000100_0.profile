@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00050	0
+MAP	STARTUP_MEM	215232576
+MAP	SETUP	424000
+MAP	SETUP_MEM	215232576
+MAP	CLEANUP	95000
+MAP	CLEANUP_MEM	222081696
+MAP	TOTAL_RUN	51688458000
+MAP	READ	10811077000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	13421780
+MAP	VALUE_BYTE_COUNT	118111664
+MAP	MAP	31926749000
+MAP	WRITE	14525087000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	3729144000
+MAP	SERIALIZE_OUTPUT	2428973000
+MAP	MAP_MEM	222643856
+SPILL	SORT_AND_SPILL	28136785000
+SPILL	QUICK_SORT	4839539000
+SPILL	SORT_COUNT	1342178
+SPILL	COMBINE	0
+SPILL	WRITE	23297246000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136902210
+SPILL	COMPRESS_BYTE_COUNT	20066393
+MERGE	TOTAL_MERGE	1812000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	80659600000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00050	0
+MAP	STARTUP_MEM	215253720
+MAP	SETUP	642000
+MAP	SETUP_MEM	215253720
+MAP	CLEANUP	95000
+MAP	CLEANUP_MEM	223295200
+MAP	TOTAL_RUN	43019633000
+MAP	READ	10204720000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	13421770
+MAP	VALUE_BYTE_COUNT	118111576
+MAP	MAP	26135166000
+MAP	WRITE	11291332000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	4429791000
+MAP	SERIALIZE_OUTPUT	2768402000
+MAP	MAP_MEM	223295200
+SPILL	SORT_AND_SPILL	28131035000
+SPILL	QUICK_SORT	3897819000
+SPILL	SORT_COUNT	1342177
+SPILL	COMBINE	0
+SPILL	WRITE	24233216000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136902108
+SPILL	COMPRESS_BYTE_COUNT	20078912
+MERGE	TOTAL_MERGE	1639000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	73578240000
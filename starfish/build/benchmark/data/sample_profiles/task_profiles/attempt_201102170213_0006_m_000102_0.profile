@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00051	0
+MAP	STARTUP_MEM	216098536
+MAP	SETUP	458000
+MAP	SETUP_MEM	216098536
+MAP	CLEANUP	95000
+MAP	CLEANUP_MEM	222115656
+MAP	TOTAL_RUN	32784128000
+MAP	READ	6918779000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	13421780
+MAP	VALUE_BYTE_COUNT	118111664
+MAP	MAP	18599577000
+MAP	WRITE	6204415000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1237927000
+MAP	SERIALIZE_OUTPUT	2090275000
+MAP	MAP_MEM	222677816
+SPILL	SORT_AND_SPILL	41697706000
+SPILL	QUICK_SORT	3617434000
+SPILL	SORT_COUNT	1342178
+SPILL	COMBINE	0
+SPILL	WRITE	38080272000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136902210
+SPILL	COMPRESS_BYTE_COUNT	20068513
+MERGE	TOTAL_MERGE	1579000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	75337571000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00051	0
+MAP	STARTUP_MEM	216118240
+MAP	SETUP	496000
+MAP	SETUP_MEM	216118240
+MAP	CLEANUP	92000
+MAP	CLEANUP_MEM	223423272
+MAP	TOTAL_RUN	58417530000
+MAP	READ	10299794000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	13421770
+MAP	VALUE_BYTE_COUNT	118111576
+MAP	MAP	35262502000
+MAP	WRITE	15376666000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	3119009000
+MAP	SERIALIZE_OUTPUT	6401107000
+MAP	MAP_MEM	223985432
+SPILL	SORT_AND_SPILL	25926280000
+SPILL	QUICK_SORT	5000029000
+SPILL	SORT_COUNT	1342177
+SPILL	COMBINE	0
+SPILL	WRITE	20926251000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136902108
+SPILL	COMPRESS_BYTE_COUNT	20075361
+MERGE	TOTAL_MERGE	1608000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	84899695000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00052	0
+MAP	STARTUP_MEM	216043448
+MAP	SETUP	586000
+MAP	SETUP_MEM	216043448
+MAP	CLEANUP	102000
+MAP	CLEANUP_MEM	222082368
+MAP	TOTAL_RUN	41196133152
+MAP	READ	6830596000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	13421780
+MAP	VALUE_BYTE_COUNT	118111664
+MAP	MAP	27946485152
+MAP	WRITE	10015401000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1906399000
+MAP	SERIALIZE_OUTPUT	3145132000
+MAP	MAP_MEM	222082368
+SPILL	SORT_AND_SPILL	29801316000
+SPILL	QUICK_SORT	3892114000
+SPILL	SORT_COUNT	1342178
+SPILL	COMBINE	0
+SPILL	WRITE	25909202000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136902210
+SPILL	COMPRESS_BYTE_COUNT	20070884
+MERGE	TOTAL_MERGE	1663000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	71469101152
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00052	0
+MAP	STARTUP_MEM	215251016
+MAP	SETUP	424000
+MAP	SETUP_MEM	215251016
+MAP	CLEANUP	100000
+MAP	CLEANUP_MEM	223374208
+MAP	TOTAL_RUN	41543608000
+MAP	READ	7693534000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	13421770
+MAP	VALUE_BYTE_COUNT	118111576
+MAP	MAP	23958495000
+MAP	WRITE	7439483000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1202302000
+MAP	SERIALIZE_OUTPUT	2285411000
+MAP	MAP_MEM	223936368
+SPILL	SORT_AND_SPILL	24102755000
+SPILL	QUICK_SORT	5917071000
+SPILL	SORT_COUNT	1342177
+SPILL	COMBINE	0
+SPILL	WRITE	18185684000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136902108
+SPILL	COMPRESS_BYTE_COUNT	20079374
+MERGE	TOTAL_MERGE	1822000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	67443707000
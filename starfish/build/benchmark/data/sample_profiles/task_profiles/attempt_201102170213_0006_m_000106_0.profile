@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00053	0
+MAP	STARTUP_MEM	215270872
+MAP	SETUP	474000
+MAP	SETUP_MEM	215270872
+MAP	CLEANUP	95000
+MAP	CLEANUP_MEM	223375328
+MAP	TOTAL_RUN	49250608000
+MAP	READ	12594302000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	13421780
+MAP	VALUE_BYTE_COUNT	118111664
+MAP	MAP	29214466000
+MAP	WRITE	12448439000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	7396494000
+MAP	SERIALIZE_OUTPUT	2126181000
+MAP	MAP_MEM	223375328
+SPILL	SORT_AND_SPILL	26001131000
+SPILL	QUICK_SORT	6222453000
+SPILL	SORT_COUNT	1342178
+SPILL	COMBINE	0
+SPILL	WRITE	19778678000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136902210
+SPILL	COMPRESS_BYTE_COUNT	20068075
+MERGE	TOTAL_MERGE	1606000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	75721410000
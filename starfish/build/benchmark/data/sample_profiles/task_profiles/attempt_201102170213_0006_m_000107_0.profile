@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00053	0
+MAP	STARTUP_MEM	216137248
+MAP	SETUP	524000
+MAP	SETUP_MEM	216137248
+MAP	CLEANUP	97000
+MAP	CLEANUP_MEM	222157552
+MAP	TOTAL_RUN	34834862000
+MAP	READ	5158670000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	13421770
+MAP	VALUE_BYTE_COUNT	118111576
+MAP	MAP	23903907000
+MAP	WRITE	9351183000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	2211769000
+MAP	SERIALIZE_OUTPUT	2228835000
+MAP	MAP_MEM	222157552
+SPILL	SORT_AND_SPILL	35260064000
+SPILL	QUICK_SORT	3200200000
+SPILL	SORT_COUNT	1342177
+SPILL	COMBINE	0
+SPILL	WRITE	32059864000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136902108
+SPILL	COMPRESS_BYTE_COUNT	20077944
+MERGE	TOTAL_MERGE	1635000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	72629301000
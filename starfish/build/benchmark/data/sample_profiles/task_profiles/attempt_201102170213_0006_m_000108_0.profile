@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00054	0
+MAP	STARTUP_MEM	216127016
+MAP	SETUP	489000
+MAP	SETUP_MEM	216127016
+MAP	CLEANUP	101000
+MAP	CLEANUP_MEM	222116544
+MAP	TOTAL_RUN	51845598318
+MAP	READ	9498216000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	13421780
+MAP	VALUE_BYTE_COUNT	118111664
+MAP	MAP	30920954318
+MAP	WRITE	16178449318
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	2048060000
+MAP	SERIALIZE_OUTPUT	8003033318
+MAP	MAP_MEM	222116544
+SPILL	SORT_AND_SPILL	31480860276
+SPILL	QUICK_SORT	4680288000
+SPILL	SORT_COUNT	1342178
+SPILL	COMBINE	0
+SPILL	WRITE	26800572276
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136902210
+SPILL	COMPRESS_BYTE_COUNT	20066627
+MERGE	TOTAL_MERGE	1654000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	85377221594
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00054	0
+MAP	STARTUP_MEM	216096192
+MAP	SETUP	572000
+MAP	SETUP_MEM	216096192
+MAP	CLEANUP	98000
+MAP	CLEANUP_MEM	222645984
+MAP	TOTAL_RUN	26393737000
+MAP	READ	4443138000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	13421770
+MAP	VALUE_BYTE_COUNT	118111576
+MAP	MAP	16572110000
+MAP	WRITE	6491054000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1311262000
+MAP	SERIALIZE_OUTPUT	2121281000
+MAP	MAP_MEM	222645984
+SPILL	SORT_AND_SPILL	26399406000
+SPILL	QUICK_SORT	3042168000
+SPILL	SORT_COUNT	1342177
+SPILL	COMBINE	0
+SPILL	WRITE	23357238000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136902108
+SPILL	COMPRESS_BYTE_COUNT	20076949
+MERGE	TOTAL_MERGE	1617000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	53496912000
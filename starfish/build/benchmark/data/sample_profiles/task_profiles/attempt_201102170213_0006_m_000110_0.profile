@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00055	0
+MAP	STARTUP_MEM	215147368
+MAP	SETUP	575000
+MAP	SETUP_MEM	215147368
+MAP	CLEANUP	96000
+MAP	CLEANUP_MEM	227650400
+MAP	TOTAL_RUN	50439496646
+MAP	READ	8398971646
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	13421780
+MAP	VALUE_BYTE_COUNT	118111664
+MAP	MAP	31133836000
+MAP	WRITE	15022296000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	2099939000
+MAP	SERIALIZE_OUTPUT	5163960000
+MAP	MAP_MEM	227650400
+SPILL	SORT_AND_SPILL	28922572950
+SPILL	QUICK_SORT	3244362000
+SPILL	SORT_COUNT	1342178
+SPILL	COMBINE	0
+SPILL	WRITE	25678210950
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136902210
+SPILL	COMPRESS_BYTE_COUNT	20067329
+MERGE	TOTAL_MERGE	2101000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	81013587596
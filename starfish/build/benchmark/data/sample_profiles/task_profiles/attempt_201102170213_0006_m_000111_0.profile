@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00055	0
+MAP	STARTUP_MEM	215236160
+MAP	SETUP	486000
+MAP	SETUP_MEM	215236160
+MAP	CLEANUP	100000
+MAP	CLEANUP_MEM	222117952
+MAP	TOTAL_RUN	44779648000
+MAP	READ	11798949000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	13421770
+MAP	VALUE_BYTE_COUNT	118111576
+MAP	MAP	27004625000
+MAP	WRITE	8793379000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1554489000
+MAP	SERIALIZE_OUTPUT	4357130000
+MAP	MAP_MEM	222117952
+SPILL	SORT_AND_SPILL	32716828000
+SPILL	QUICK_SORT	6080582000
+SPILL	SORT_COUNT	1342177
+SPILL	COMBINE	0
+SPILL	WRITE	26636246000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136902108
+SPILL	COMPRESS_BYTE_COUNT	20076557
+MERGE	TOTAL_MERGE	1614000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	80256703000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00056	0
+MAP	STARTUP_MEM	215189192
+MAP	SETUP	464000
+MAP	SETUP_MEM	215189192
+MAP	CLEANUP	133000
+MAP	CLEANUP_MEM	223354672
+MAP	TOTAL_RUN	47158747000
+MAP	READ	15235294000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	13421780
+MAP	VALUE_BYTE_COUNT	118111664
+MAP	MAP	24384437000
+MAP	WRITE	13305211000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	4204498000
+MAP	SERIALIZE_OUTPUT	4086933000
+MAP	MAP_MEM	223354672
+SPILL	SORT_AND_SPILL	39733481000
+SPILL	QUICK_SORT	5444364000
+SPILL	SORT_COUNT	1342178
+SPILL	COMBINE	0
+SPILL	WRITE	34289117000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136902210
+SPILL	COMPRESS_BYTE_COUNT	20070331
+MERGE	TOTAL_MERGE	1667000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	87413694000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00056	0
+MAP	STARTUP_MEM	214557600
+MAP	SETUP	488000
+MAP	SETUP_MEM	214557600
+MAP	CLEANUP	97000
+MAP	CLEANUP_MEM	222037144
+MAP	TOTAL_RUN	25531524000
+MAP	READ	4413426000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	13421770
+MAP	VALUE_BYTE_COUNT	118111576
+MAP	MAP	16286684000
+MAP	WRITE	6117939000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1417200000
+MAP	SERIALIZE_OUTPUT	1893796000
+MAP	MAP_MEM	222599304
+SPILL	SORT_AND_SPILL	21077351000
+SPILL	QUICK_SORT	3394958000
+SPILL	SORT_COUNT	1342177
+SPILL	COMBINE	0
+SPILL	WRITE	17682393000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136902108
+SPILL	COMPRESS_BYTE_COUNT	20076867
+MERGE	TOTAL_MERGE	1620000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	49441907000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00057	0
+MAP	STARTUP_MEM	216119352
+MAP	SETUP	485000
+MAP	SETUP_MEM	216119352
+MAP	CLEANUP	106000
+MAP	CLEANUP_MEM	223913888
+MAP	TOTAL_RUN	52449825000
+MAP	READ	14334615000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	13421780
+MAP	VALUE_BYTE_COUNT	118111664
+MAP	MAP	24812114000
+MAP	WRITE	9958097000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	3945031000
+MAP	SERIALIZE_OUTPUT	2661349000
+MAP	MAP_MEM	223913888
+SPILL	SORT_AND_SPILL	26581362000
+SPILL	QUICK_SORT	4161636000
+SPILL	SORT_COUNT	1342178
+SPILL	COMBINE	0
+SPILL	WRITE	22419726000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136902210
+SPILL	COMPRESS_BYTE_COUNT	20066991
+MERGE	TOTAL_MERGE	1726000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	79668509000
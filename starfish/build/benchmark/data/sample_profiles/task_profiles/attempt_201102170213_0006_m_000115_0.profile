@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00057	0
+MAP	STARTUP_MEM	215847872
+MAP	SETUP	493000
+MAP	SETUP_MEM	215847872
+MAP	CLEANUP	126000
+MAP	CLEANUP_MEM	222098288
+MAP	TOTAL_RUN	43076236000
+MAP	READ	10350836000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	13421770
+MAP	VALUE_BYTE_COUNT	118111576
+MAP	MAP	23836733000
+MAP	WRITE	9970969000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1299516000
+MAP	SERIALIZE_OUTPUT	2229282000
+MAP	MAP_MEM	222098288
+SPILL	SORT_AND_SPILL	38705273000
+SPILL	QUICK_SORT	6136059000
+SPILL	SORT_COUNT	1342177
+SPILL	COMBINE	0
+SPILL	WRITE	32569214000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136902108
+SPILL	COMPRESS_BYTE_COUNT	20081829
+MERGE	TOTAL_MERGE	1660000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	83572145000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00058	0
+MAP	STARTUP_MEM	216062536
+MAP	SETUP	464000
+MAP	SETUP_MEM	216062536
+MAP	CLEANUP	89000
+MAP	CLEANUP_MEM	221360520
+MAP	TOTAL_RUN	25316511000
+MAP	READ	4329751000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	13421780
+MAP	VALUE_BYTE_COUNT	118111664
+MAP	MAP	16500354000
+MAP	WRITE	6278941000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1256113000
+MAP	SERIALIZE_OUTPUT	2100228000
+MAP	MAP_MEM	221360520
+SPILL	SORT_AND_SPILL	18916391000
+SPILL	QUICK_SORT	3218971000
+SPILL	SORT_COUNT	1342178
+SPILL	COMBINE	0
+SPILL	WRITE	15697420000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136902210
+SPILL	COMPRESS_BYTE_COUNT	20070374
+MERGE	TOTAL_MERGE	1618000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	45374468000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00058	0
+MAP	STARTUP_MEM	216054400
+MAP	SETUP	512000
+MAP	SETUP_MEM	216054400
+MAP	CLEANUP	101000
+MAP	CLEANUP_MEM	222104680
+MAP	TOTAL_RUN	42239274000
+MAP	READ	9088761000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	13421770
+MAP	VALUE_BYTE_COUNT	118111576
+MAP	MAP	24766211000
+MAP	WRITE	8385964000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1328896000
+MAP	SERIALIZE_OUTPUT	3607996000
+MAP	MAP_MEM	222666840
+SPILL	SORT_AND_SPILL	31239844000
+SPILL	QUICK_SORT	3646161000
+SPILL	SORT_COUNT	1342177
+SPILL	COMBINE	0
+SPILL	WRITE	27593683000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136902108
+SPILL	COMPRESS_BYTE_COUNT	20078226
+MERGE	TOTAL_MERGE	1631000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	74233954000
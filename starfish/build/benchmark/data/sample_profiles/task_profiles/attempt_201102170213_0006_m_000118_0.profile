@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00059	0
+MAP	STARTUP_MEM	216016344
+MAP	SETUP	482000
+MAP	SETUP_MEM	216016344
+MAP	CLEANUP	136000
+MAP	CLEANUP_MEM	222668608
+MAP	TOTAL_RUN	36670143991
+MAP	READ	8297629000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	13421780
+MAP	VALUE_BYTE_COUNT	118111664
+MAP	MAP	20914651991
+MAP	WRITE	8407673991
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1476639991
+MAP	SERIALIZE_OUTPUT	2774985000
+MAP	MAP_MEM	222668608
+SPILL	SORT_AND_SPILL	26067232000
+SPILL	QUICK_SORT	5990904000
+SPILL	SORT_COUNT	1342178
+SPILL	COMBINE	0
+SPILL	WRITE	20076328000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136902210
+SPILL	COMPRESS_BYTE_COUNT	20068180
+MERGE	TOTAL_MERGE	1717000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	63207303991
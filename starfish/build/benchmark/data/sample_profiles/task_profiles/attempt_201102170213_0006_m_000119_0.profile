@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00059	0
+MAP	STARTUP_MEM	215159720
+MAP	SETUP	609000
+MAP	SETUP_MEM	215159720
+MAP	CLEANUP	99000
+MAP	CLEANUP_MEM	223869224
+MAP	TOTAL_RUN	61834307000
+MAP	READ	18998115000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	13421770
+MAP	VALUE_BYTE_COUNT	118111576
+MAP	MAP	36912313000
+MAP	WRITE	16248525000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1423371000
+MAP	SERIALIZE_OUTPUT	2595701000
+MAP	MAP_MEM	223869224
+SPILL	SORT_AND_SPILL	34530923000
+SPILL	QUICK_SORT	3725137000
+SPILL	SORT_COUNT	1342177
+SPILL	COMBINE	0
+SPILL	WRITE	30805786000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136902108
+SPILL	COMPRESS_BYTE_COUNT	20078740
+MERGE	TOTAL_MERGE	1657000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	98555528000
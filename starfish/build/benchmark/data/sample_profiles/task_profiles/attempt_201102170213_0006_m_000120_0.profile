@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00060	0
+MAP	STARTUP_MEM	216116104
+MAP	SETUP	582000
+MAP	SETUP_MEM	216116104
+MAP	CLEANUP	100000
+MAP	CLEANUP_MEM	222083544
+MAP	TOTAL_RUN	57675693000
+MAP	READ	18064528000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	13421780
+MAP	VALUE_BYTE_COUNT	118111664
+MAP	MAP	25599957000
+MAP	WRITE	12209137000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	2228551000
+MAP	SERIALIZE_OUTPUT	2704086000
+MAP	MAP_MEM	222645704
+SPILL	SORT_AND_SPILL	29797919000
+SPILL	QUICK_SORT	3856132000
+SPILL	SORT_COUNT	1342178
+SPILL	COMBINE	0
+SPILL	WRITE	25941787000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136902210
+SPILL	COMPRESS_BYTE_COUNT	20066897
+MERGE	TOTAL_MERGE	1781000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	88229908000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00060	0
+MAP	STARTUP_MEM	214968664
+MAP	SETUP	499000
+MAP	SETUP_MEM	214968664
+MAP	CLEANUP	102000
+MAP	CLEANUP_MEM	222107944
+MAP	TOTAL_RUN	44535034000
+MAP	READ	7712000000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	13421770
+MAP	VALUE_BYTE_COUNT	118111576
+MAP	MAP	29582114000
+MAP	WRITE	10047989000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1379566000
+MAP	SERIALIZE_OUTPUT	4278963000
+MAP	MAP_MEM	222107944
+SPILL	SORT_AND_SPILL	41890834000
+SPILL	QUICK_SORT	13704772000
+SPILL	SORT_COUNT	1342177
+SPILL	COMBINE	0
+SPILL	WRITE	28186062000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136902108
+SPILL	COMPRESS_BYTE_COUNT	20079163
+MERGE	TOTAL_MERGE	1751000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	89125649000
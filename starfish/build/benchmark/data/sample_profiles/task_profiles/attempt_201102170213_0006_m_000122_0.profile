@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00061	0
+MAP	STARTUP_MEM	216095080
+MAP	SETUP	459000
+MAP	SETUP_MEM	216095080
+MAP	CLEANUP	91000
+MAP	CLEANUP_MEM	225845224
+MAP	TOTAL_RUN	43361556000
+MAP	READ	6600376000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	13421780
+MAP	VALUE_BYTE_COUNT	118111664
+MAP	MAP	32102493000
+MAP	WRITE	16206493000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	3886476000
+MAP	SERIALIZE_OUTPUT	7304973000
+MAP	MAP_MEM	226407384
+SPILL	SORT_AND_SPILL	29833337000
+SPILL	QUICK_SORT	5654790000
+SPILL	SORT_COUNT	1342178
+SPILL	COMBINE	0
+SPILL	WRITE	24178547000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136902210
+SPILL	COMPRESS_BYTE_COUNT	20067756
+MERGE	TOTAL_MERGE	1598000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	73675898000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00061	0
+MAP	STARTUP_MEM	216123168
+MAP	SETUP	487000
+MAP	SETUP_MEM	216123168
+MAP	CLEANUP	90000
+MAP	CLEANUP_MEM	223398152
+MAP	TOTAL_RUN	45684587000
+MAP	READ	9566679000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	13421770
+MAP	VALUE_BYTE_COUNT	118111576
+MAP	MAP	28986586000
+MAP	WRITE	12276528000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	3235779000
+MAP	SERIALIZE_OUTPUT	2154152000
+MAP	MAP_MEM	223398152
+SPILL	SORT_AND_SPILL	25429992000
+SPILL	QUICK_SORT	4762055000
+SPILL	SORT_COUNT	1342177
+SPILL	COMBINE	0
+SPILL	WRITE	20667937000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136902108
+SPILL	COMPRESS_BYTE_COUNT	20079045
+MERGE	TOTAL_MERGE	1597000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	71704758000
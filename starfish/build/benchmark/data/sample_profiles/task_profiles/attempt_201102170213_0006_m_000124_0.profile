@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00062	0
+MAP	STARTUP_MEM	216126936
+MAP	SETUP	494000
+MAP	SETUP_MEM	216126936
+MAP	CLEANUP	93000
+MAP	CLEANUP_MEM	222722608
+MAP	TOTAL_RUN	37384226000
+MAP	READ	7072749000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	13421780
+MAP	VALUE_BYTE_COUNT	118111664
+MAP	MAP	22068039000
+MAP	WRITE	8985405000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1721147000
+MAP	SERIALIZE_OUTPUT	2484384000
+MAP	MAP_MEM	222722608
+SPILL	SORT_AND_SPILL	41884768276
+SPILL	QUICK_SORT	10784511276
+SPILL	SORT_COUNT	1342178
+SPILL	COMBINE	0
+SPILL	WRITE	31100257000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136902210
+SPILL	COMPRESS_BYTE_COUNT	20068890
+MERGE	TOTAL_MERGE	1671000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	80288476276
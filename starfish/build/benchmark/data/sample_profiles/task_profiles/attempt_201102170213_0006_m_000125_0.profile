@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00062	0
+MAP	STARTUP_MEM	215186088
+MAP	SETUP	470000
+MAP	SETUP_MEM	215186088
+MAP	CLEANUP	93000
+MAP	CLEANUP_MEM	222077696
+MAP	TOTAL_RUN	30053413000
+MAP	READ	5576042000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	13421770
+MAP	VALUE_BYTE_COUNT	118111576
+MAP	MAP	19792668000
+MAP	WRITE	7792565000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	2186884000
+MAP	SERIALIZE_OUTPUT	2054177000
+MAP	MAP_MEM	222077696
+SPILL	SORT_AND_SPILL	22148597000
+SPILL	QUICK_SORT	3553349000
+SPILL	SORT_COUNT	1342177
+SPILL	COMBINE	0
+SPILL	WRITE	18595248000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136902108
+SPILL	COMPRESS_BYTE_COUNT	20078842
+MERGE	TOTAL_MERGE	1793000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	55418699000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00063	0
+MAP	STARTUP_MEM	216105120
+MAP	SETUP	497000
+MAP	SETUP_MEM	216105120
+MAP	CLEANUP	101000
+MAP	CLEANUP_MEM	222185664
+MAP	TOTAL_RUN	34047135000
+MAP	READ	6272176000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	13421780
+MAP	VALUE_BYTE_COUNT	118111664
+MAP	MAP	20578144000
+MAP	WRITE	8856037000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1697373000
+MAP	SERIALIZE_OUTPUT	3260754000
+MAP	MAP_MEM	222185664
+SPILL	SORT_AND_SPILL	36550844950
+SPILL	QUICK_SORT	3058037000
+SPILL	SORT_COUNT	1342178
+SPILL	COMBINE	0
+SPILL	WRITE	33492807950
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136902210
+SPILL	COMPRESS_BYTE_COUNT	20067168
+MERGE	TOTAL_MERGE	1697000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	71317335950
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00063	0
+MAP	STARTUP_MEM	216104440
+MAP	SETUP	485000
+MAP	SETUP_MEM	216104440
+MAP	CLEANUP	92000
+MAP	CLEANUP_MEM	223911768
+MAP	TOTAL_RUN	52547272000
+MAP	READ	8111391000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	13421770
+MAP	VALUE_BYTE_COUNT	118111576
+MAP	MAP	31919214000
+MAP	WRITE	17144303000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	5885957000
+MAP	SERIALIZE_OUTPUT	2843220000
+MAP	MAP_MEM	223911768
+SPILL	SORT_AND_SPILL	20808121000
+SPILL	QUICK_SORT	2901689000
+SPILL	SORT_COUNT	1342177
+SPILL	COMBINE	0
+SPILL	WRITE	17906432000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136902108
+SPILL	COMPRESS_BYTE_COUNT	20078699
+MERGE	TOTAL_MERGE	1610000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	73956141000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00064	0
+MAP	STARTUP_MEM	215243912
+MAP	SETUP	479000
+MAP	SETUP_MEM	215243912
+MAP	CLEANUP	94000
+MAP	CLEANUP_MEM	222160992
+MAP	TOTAL_RUN	44857073000
+MAP	READ	11532885000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	13421780
+MAP	VALUE_BYTE_COUNT	118111664
+MAP	MAP	27585581000
+MAP	WRITE	14768181000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1376082000
+MAP	SERIALIZE_OUTPUT	4502115000
+MAP	MAP_MEM	222160992
+SPILL	SORT_AND_SPILL	20254434000
+SPILL	QUICK_SORT	3092025000
+SPILL	SORT_COUNT	1342178
+SPILL	COMBINE	0
+SPILL	WRITE	17162409000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136902210
+SPILL	COMPRESS_BYTE_COUNT	20067022
+MERGE	TOTAL_MERGE	1636000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	65954278000
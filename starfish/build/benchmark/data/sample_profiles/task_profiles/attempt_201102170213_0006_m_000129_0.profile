@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00064	0
+MAP	STARTUP_MEM	216002168
+MAP	SETUP	527000
+MAP	SETUP_MEM	216002168
+MAP	CLEANUP	100000
+MAP	CLEANUP_MEM	222678736
+MAP	TOTAL_RUN	36314635000
+MAP	READ	6516453000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	13421770
+MAP	VALUE_BYTE_COUNT	118111576
+MAP	MAP	21972522000
+MAP	WRITE	6849745000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1473199000
+MAP	SERIALIZE_OUTPUT	2151464000
+MAP	MAP_MEM	222678736
+SPILL	SORT_AND_SPILL	27371229000
+SPILL	QUICK_SORT	3511690000
+SPILL	SORT_COUNT	1342177
+SPILL	COMBINE	0
+SPILL	WRITE	23859539000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136902108
+SPILL	COMPRESS_BYTE_COUNT	20078310
+MERGE	TOTAL_MERGE	1863000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	65530800000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00065	0
+MAP	STARTUP_MEM	216062368
+MAP	SETUP	481000
+MAP	SETUP_MEM	216062368
+MAP	CLEANUP	100000
+MAP	CLEANUP_MEM	223353744
+MAP	TOTAL_RUN	46730876000
+MAP	READ	7104534000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	13421780
+MAP	VALUE_BYTE_COUNT	118111664
+MAP	MAP	26534048000
+MAP	WRITE	11989613000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1299308000
+MAP	SERIALIZE_OUTPUT	7478493000
+MAP	MAP_MEM	223353744
+SPILL	SORT_AND_SPILL	29689003000
+SPILL	QUICK_SORT	5625602000
+SPILL	SORT_COUNT	1342178
+SPILL	COMBINE	0
+SPILL	WRITE	24063401000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136902210
+SPILL	COMPRESS_BYTE_COUNT	20070475
+MERGE	TOTAL_MERGE	1588000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	76903508000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00065	0
+MAP	STARTUP_MEM	217540696
+MAP	SETUP	515000
+MAP	SETUP_MEM	217540696
+MAP	CLEANUP	103000
+MAP	CLEANUP_MEM	225722752
+MAP	TOTAL_RUN	35111703000
+MAP	READ	7392818000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	13421770
+MAP	VALUE_BYTE_COUNT	118111576
+MAP	MAP	21226095000
+MAP	WRITE	9638223000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1630374000
+MAP	SERIALIZE_OUTPUT	2388175000
+MAP	MAP_MEM	225722752
+SPILL	SORT_AND_SPILL	52331392000
+SPILL	QUICK_SORT	6406486000
+SPILL	SORT_COUNT	1342177
+SPILL	COMBINE	0
+SPILL	WRITE	45924906000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136902108
+SPILL	COMPRESS_BYTE_COUNT	20079249
+MERGE	TOTAL_MERGE	2236000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	90571939000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00066	0
+MAP	STARTUP_MEM	215260920
+MAP	SETUP	469000
+MAP	SETUP_MEM	215260920
+MAP	CLEANUP	106000
+MAP	CLEANUP_MEM	226412080
+MAP	TOTAL_RUN	35040751991
+MAP	READ	5811233991
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	13421780
+MAP	VALUE_BYTE_COUNT	118111664
+MAP	MAP	21887096000
+MAP	WRITE	9765864000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1514903000
+MAP	SERIALIZE_OUTPUT	3021521000
+MAP	MAP_MEM	226412080
+SPILL	SORT_AND_SPILL	23923331000
+SPILL	QUICK_SORT	3436548000
+SPILL	SORT_COUNT	1342178
+SPILL	COMBINE	0
+SPILL	WRITE	20486783000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136902210
+SPILL	COMPRESS_BYTE_COUNT	20068032
+MERGE	TOTAL_MERGE	1713000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	59722966991
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00066	0
+MAP	STARTUP_MEM	214971792
+MAP	SETUP	442000
+MAP	SETUP_MEM	214971792
+MAP	CLEANUP	92000
+MAP	CLEANUP_MEM	223339592
+MAP	TOTAL_RUN	37468774000
+MAP	READ	6344848000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	13421770
+MAP	VALUE_BYTE_COUNT	118111576
+MAP	MAP	24435599000
+MAP	WRITE	9611560000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1167877000
+MAP	SERIALIZE_OUTPUT	2059838000
+MAP	MAP_MEM	223901752
+SPILL	SORT_AND_SPILL	28116658000
+SPILL	QUICK_SORT	4086564000
+SPILL	SORT_COUNT	1342177
+SPILL	COMBINE	0
+SPILL	WRITE	24030094000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136902108
+SPILL	COMPRESS_BYTE_COUNT	19882294
+MERGE	TOTAL_MERGE	1588000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	66185878000
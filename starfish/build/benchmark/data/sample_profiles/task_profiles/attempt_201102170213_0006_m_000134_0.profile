@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00067	0
+MAP	STARTUP_MEM	216062656
+MAP	SETUP	530000
+MAP	SETUP_MEM	216062656
+MAP	CLEANUP	96000
+MAP	CLEANUP_MEM	222150504
+MAP	TOTAL_RUN	40258622000
+MAP	READ	10081952000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	13421780
+MAP	VALUE_BYTE_COUNT	118111664
+MAP	MAP	22444548000
+MAP	WRITE	9231578000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1767355000
+MAP	SERIALIZE_OUTPUT	2776464000
+MAP	MAP_MEM	222150504
+SPILL	SORT_AND_SPILL	33638905728
+SPILL	QUICK_SORT	3464272000
+SPILL	SORT_COUNT	1342178
+SPILL	COMBINE	0
+SPILL	WRITE	30174633728
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136902210
+SPILL	COMPRESS_BYTE_COUNT	20065255
+MERGE	TOTAL_MERGE	1751000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	76035761728
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00067	0
+MAP	STARTUP_MEM	215191224
+MAP	SETUP	500000
+MAP	SETUP_MEM	215191224
+MAP	CLEANUP	108000
+MAP	CLEANUP_MEM	222655424
+MAP	TOTAL_RUN	29775299000
+MAP	READ	5040897000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	13421770
+MAP	VALUE_BYTE_COUNT	118111576
+MAP	MAP	20060536000
+MAP	WRITE	7486764000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1356445000
+MAP	SERIALIZE_OUTPUT	2233899000
+MAP	MAP_MEM	222655424
+SPILL	SORT_AND_SPILL	19840358000
+SPILL	QUICK_SORT	3813299000
+SPILL	SORT_COUNT	1342177
+SPILL	COMBINE	0
+SPILL	WRITE	16027059000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136902108
+SPILL	COMPRESS_BYTE_COUNT	20077394
+MERGE	TOTAL_MERGE	1672000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	51422666000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00068	0
+MAP	STARTUP_MEM	216026552
+MAP	SETUP	525000
+MAP	SETUP_MEM	216026552
+MAP	CLEANUP	190000
+MAP	CLEANUP_MEM	222671280
+MAP	TOTAL_RUN	36111185000
+MAP	READ	8648899000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	13421780
+MAP	VALUE_BYTE_COUNT	118111664
+MAP	MAP	20517867000
+MAP	WRITE	9072770000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1958893000
+MAP	SERIALIZE_OUTPUT	2496621000
+MAP	MAP_MEM	222671280
+SPILL	SORT_AND_SPILL	33841964000
+SPILL	QUICK_SORT	5330073000
+SPILL	SORT_COUNT	1342178
+SPILL	COMBINE	0
+SPILL	WRITE	28511891000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136902210
+SPILL	COMPRESS_BYTE_COUNT	20067955
+MERGE	TOTAL_MERGE	1718000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	71705692000
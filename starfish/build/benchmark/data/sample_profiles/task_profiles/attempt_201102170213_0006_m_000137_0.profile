@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00068	0
+MAP	STARTUP_MEM	215873784
+MAP	SETUP	620000
+MAP	SETUP_MEM	215873784
+MAP	CLEANUP	124000
+MAP	CLEANUP_MEM	222108672
+MAP	TOTAL_RUN	34441823000
+MAP	READ	5624652000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	13421770
+MAP	VALUE_BYTE_COUNT	118111576
+MAP	MAP	21297265000
+MAP	WRITE	8009478000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1441615000
+MAP	SERIALIZE_OUTPUT	3317614000
+MAP	MAP_MEM	222108672
+SPILL	SORT_AND_SPILL	40704126000
+SPILL	QUICK_SORT	3302276000
+SPILL	SORT_COUNT	1342177
+SPILL	COMBINE	0
+SPILL	WRITE	37401850000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136902108
+SPILL	COMPRESS_BYTE_COUNT	20078802
+MERGE	TOTAL_MERGE	1891000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	76019647000
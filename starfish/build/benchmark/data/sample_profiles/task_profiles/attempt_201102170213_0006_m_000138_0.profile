@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00069	0
+MAP	STARTUP_MEM	216115544
+MAP	SETUP	470000
+MAP	SETUP_MEM	216115544
+MAP	CLEANUP	92000
+MAP	CLEANUP_MEM	222692320
+MAP	TOTAL_RUN	27060101000
+MAP	READ	5583910000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	13421780
+MAP	VALUE_BYTE_COUNT	118111664
+MAP	MAP	16406974000
+MAP	WRITE	6430858000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1315543000
+MAP	SERIALIZE_OUTPUT	2158400000
+MAP	MAP_MEM	222692320
+SPILL	SORT_AND_SPILL	22035751000
+SPILL	QUICK_SORT	3154165000
+SPILL	SORT_COUNT	1342178
+SPILL	COMBINE	0
+SPILL	WRITE	18881586000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136902210
+SPILL	COMPRESS_BYTE_COUNT	20068407
+MERGE	TOTAL_MERGE	1677000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	49575693000
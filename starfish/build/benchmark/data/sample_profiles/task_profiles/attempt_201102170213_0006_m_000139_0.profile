@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00069	0
+MAP	STARTUP_MEM	216095400
+MAP	SETUP	496000
+MAP	SETUP_MEM	216095400
+MAP	CLEANUP	90000
+MAP	CLEANUP_MEM	222082072
+MAP	TOTAL_RUN	37747769000
+MAP	READ	8305249000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	13421770
+MAP	VALUE_BYTE_COUNT	118111576
+MAP	MAP	24217037000
+MAP	WRITE	9358044000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	2420204000
+MAP	SERIALIZE_OUTPUT	2139283000
+MAP	MAP_MEM	222082072
+SPILL	SORT_AND_SPILL	19719876000
+SPILL	QUICK_SORT	2980543000
+SPILL	SORT_COUNT	1342177
+SPILL	COMBINE	0
+SPILL	WRITE	16739333000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136902108
+SPILL	COMPRESS_BYTE_COUNT	20079535
+MERGE	TOTAL_MERGE	1612000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	57990608000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00070	0
+MAP	STARTUP_MEM	215206352
+MAP	SETUP	453000
+MAP	SETUP_MEM	215206352
+MAP	CLEANUP	86000
+MAP	CLEANUP_MEM	223605832
+MAP	TOTAL_RUN	42548172000
+MAP	READ	13052248000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	13421780
+MAP	VALUE_BYTE_COUNT	118111664
+MAP	MAP	23095965000
+MAP	WRITE	11135194000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1486709000
+MAP	SERIALIZE_OUTPUT	3615884000
+MAP	MAP_MEM	223605832
+SPILL	SORT_AND_SPILL	21997777000
+SPILL	QUICK_SORT	4541813000
+SPILL	SORT_COUNT	1342178
+SPILL	COMBINE	0
+SPILL	WRITE	17455964000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136902210
+SPILL	COMPRESS_BYTE_COUNT	20065383
+MERGE	TOTAL_MERGE	1684000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	64987961000
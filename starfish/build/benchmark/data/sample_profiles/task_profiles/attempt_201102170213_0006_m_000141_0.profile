@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00070	0
+MAP	STARTUP_MEM	215086728
+MAP	SETUP	575000
+MAP	SETUP_MEM	215086728
+MAP	CLEANUP	101000
+MAP	CLEANUP_MEM	220884512
+MAP	TOTAL_RUN	35946731000
+MAP	READ	8661272000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	13421770
+MAP	VALUE_BYTE_COUNT	118111576
+MAP	MAP	18982272000
+MAP	WRITE	7680707000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	2183308000
+MAP	SERIALIZE_OUTPUT	2219571000
+MAP	MAP_MEM	220884512
+SPILL	SORT_AND_SPILL	38039909000
+SPILL	QUICK_SORT	3545750000
+SPILL	SORT_COUNT	1342177
+SPILL	COMBINE	0
+SPILL	WRITE	34494159000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136902108
+SPILL	COMPRESS_BYTE_COUNT	20079230
+MERGE	TOTAL_MERGE	22021000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	74731371000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00071	0
+MAP	STARTUP_MEM	215160864
+MAP	SETUP	431000
+MAP	SETUP_MEM	215160864
+MAP	CLEANUP	96000
+MAP	CLEANUP_MEM	222073792
+MAP	TOTAL_RUN	33309097000
+MAP	READ	5735775000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	13421780
+MAP	VALUE_BYTE_COUNT	118111664
+MAP	MAP	20706228000
+MAP	WRITE	9296684000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1738332000
+MAP	SERIALIZE_OUTPUT	4289688000
+MAP	MAP_MEM	222073792
+SPILL	SORT_AND_SPILL	22839345000
+SPILL	QUICK_SORT	4287224000
+SPILL	SORT_COUNT	1342178
+SPILL	COMBINE	0
+SPILL	WRITE	18552121000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136902210
+SPILL	COMPRESS_BYTE_COUNT	20067160
+MERGE	TOTAL_MERGE	1645000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	57982116000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00071	0
+MAP	STARTUP_MEM	215932184
+MAP	SETUP	525000
+MAP	SETUP_MEM	215932184
+MAP	CLEANUP	101000
+MAP	CLEANUP_MEM	222701640
+MAP	TOTAL_RUN	35265768294
+MAP	READ	6198844294
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	13421770
+MAP	VALUE_BYTE_COUNT	118111576
+MAP	MAP	20471995000
+MAP	WRITE	8797303000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1839358000
+MAP	SERIALIZE_OUTPUT	2643845000
+MAP	MAP_MEM	222701640
+SPILL	SORT_AND_SPILL	23028655000
+SPILL	QUICK_SORT	4542051000
+SPILL	SORT_COUNT	1342177
+SPILL	COMBINE	0
+SPILL	WRITE	18486604000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136902108
+SPILL	COMPRESS_BYTE_COUNT	20078440
+MERGE	TOTAL_MERGE	1676000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	59610480294
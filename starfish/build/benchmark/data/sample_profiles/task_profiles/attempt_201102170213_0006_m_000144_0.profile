@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00072	0
+MAP	STARTUP_MEM	216047784
+MAP	SETUP	475000
+MAP	SETUP_MEM	216047784
+MAP	CLEANUP	87000
+MAP	CLEANUP_MEM	222294808
+MAP	TOTAL_RUN	38970775000
+MAP	READ	6406327000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	13421780
+MAP	VALUE_BYTE_COUNT	118111664
+MAP	MAP	26058696000
+MAP	WRITE	9367072000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1643425000
+MAP	SERIALIZE_OUTPUT	4118452000
+MAP	MAP_MEM	222856968
+SPILL	SORT_AND_SPILL	28689839000
+SPILL	QUICK_SORT	3682816000
+SPILL	SORT_COUNT	1342178
+SPILL	COMBINE	0
+SPILL	WRITE	25007023000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136902210
+SPILL	COMPRESS_BYTE_COUNT	20070487
+MERGE	TOTAL_MERGE	1703000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	68975320000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00072	0
+MAP	STARTUP_MEM	216023336
+MAP	SETUP	499000
+MAP	SETUP_MEM	216023336
+MAP	CLEANUP	91000
+MAP	CLEANUP_MEM	222102632
+MAP	TOTAL_RUN	41695197000
+MAP	READ	13346531000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	13421770
+MAP	VALUE_BYTE_COUNT	118111576
+MAP	MAP	22193895000
+MAP	WRITE	8788438000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1496278000
+MAP	SERIALIZE_OUTPUT	2952745000
+MAP	MAP_MEM	222664792
+SPILL	SORT_AND_SPILL	31745392000
+SPILL	QUICK_SORT	5776542000
+SPILL	SORT_COUNT	1342177
+SPILL	COMBINE	0
+SPILL	WRITE	25968850000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136902108
+SPILL	COMPRESS_BYTE_COUNT	20079647
+MERGE	TOTAL_MERGE	1643000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	74065517000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00073	0
+MAP	STARTUP_MEM	215183376
+MAP	SETUP	447000
+MAP	SETUP_MEM	215183376
+MAP	CLEANUP	98000
+MAP	CLEANUP_MEM	223351856
+MAP	TOTAL_RUN	53219045000
+MAP	READ	16327781000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	13421780
+MAP	VALUE_BYTE_COUNT	118111664
+MAP	MAP	27825134000
+MAP	WRITE	14368056000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	6034450000
+MAP	SERIALIZE_OUTPUT	4940680000
+MAP	MAP_MEM	223914016
+SPILL	SORT_AND_SPILL	30706997000
+SPILL	QUICK_SORT	3190040000
+SPILL	SORT_COUNT	1342178
+SPILL	COMBINE	0
+SPILL	WRITE	27516957000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136902210
+SPILL	COMPRESS_BYTE_COUNT	20067396
+MERGE	TOTAL_MERGE	1755000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	84702279000
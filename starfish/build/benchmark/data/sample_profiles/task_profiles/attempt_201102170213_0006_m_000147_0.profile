@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00073	0
+MAP	STARTUP_MEM	215063136
+MAP	SETUP	499000
+MAP	SETUP_MEM	215063136
+MAP	CLEANUP	111000
+MAP	CLEANUP_MEM	222191744
+MAP	TOTAL_RUN	45370569788
+MAP	READ	16003906000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	13421770
+MAP	VALUE_BYTE_COUNT	118111576
+MAP	MAP	24238373788
+MAP	WRITE	7871143000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	2633733000
+MAP	SERIALIZE_OUTPUT	2129334000
+MAP	MAP_MEM	222191744
+SPILL	SORT_AND_SPILL	33967552000
+SPILL	QUICK_SORT	8676337000
+SPILL	SORT_COUNT	1342177
+SPILL	COMBINE	0
+SPILL	WRITE	25291215000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136902108
+SPILL	COMPRESS_BYTE_COUNT	20079844
+MERGE	TOTAL_MERGE	1957000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	79937278788
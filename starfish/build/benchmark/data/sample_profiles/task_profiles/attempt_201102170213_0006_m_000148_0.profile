@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00074	0
+MAP	STARTUP_MEM	215330240
+MAP	SETUP	477000
+MAP	SETUP_MEM	215330240
+MAP	CLEANUP	99000
+MAP	CLEANUP_MEM	220775080
+MAP	TOTAL_RUN	27420801000
+MAP	READ	3938684000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	13421780
+MAP	VALUE_BYTE_COUNT	118111664
+MAP	MAP	18407972000
+MAP	WRITE	7082094000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1280687000
+MAP	SERIALIZE_OUTPUT	2179808000
+MAP	MAP_MEM	221337240
+SPILL	SORT_AND_SPILL	20815623000
+SPILL	QUICK_SORT	3231871000
+SPILL	SORT_COUNT	1342178
+SPILL	COMBINE	0
+SPILL	WRITE	17583752000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136902210
+SPILL	COMPRESS_BYTE_COUNT	20064952
+MERGE	TOTAL_MERGE	1779000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	49998107000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00074	0
+MAP	STARTUP_MEM	215848872
+MAP	SETUP	555000
+MAP	SETUP_MEM	215848872
+MAP	CLEANUP	99000
+MAP	CLEANUP_MEM	222737600
+MAP	TOTAL_RUN	34475727788
+MAP	READ	5478478000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	13421770
+MAP	VALUE_BYTE_COUNT	118111576
+MAP	MAP	22602680788
+MAP	WRITE	8134032788
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1182706000
+MAP	SERIALIZE_OUTPUT	2142879000
+MAP	MAP_MEM	222737600
+SPILL	SORT_AND_SPILL	46641298000
+SPILL	QUICK_SORT	7509619000
+SPILL	SORT_COUNT	1342177
+SPILL	COMBINE	0
+SPILL	WRITE	39131679000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136902108
+SPILL	COMPRESS_BYTE_COUNT	20078884
+MERGE	TOTAL_MERGE	1706000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	81819881788
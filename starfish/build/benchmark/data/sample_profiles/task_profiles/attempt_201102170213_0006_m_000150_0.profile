@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00075	0
+MAP	STARTUP_MEM	215210024
+MAP	SETUP	468000
+MAP	SETUP_MEM	215210024
+MAP	CLEANUP	99000
+MAP	CLEANUP_MEM	223441512
+MAP	TOTAL_RUN	53223337000
+MAP	READ	12878686000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	13421780
+MAP	VALUE_BYTE_COUNT	118111664
+MAP	MAP	29297719000
+MAP	WRITE	12872152000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	2495219000
+MAP	SERIALIZE_OUTPUT	2171537000
+MAP	MAP_MEM	223441512
+SPILL	SORT_AND_SPILL	19578209000
+SPILL	QUICK_SORT	3224884000
+SPILL	SORT_COUNT	1342178
+SPILL	COMBINE	0
+SPILL	WRITE	16353325000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136902210
+SPILL	COMPRESS_BYTE_COUNT	20069735
+MERGE	TOTAL_MERGE	1614000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	73551196000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00075	0
+MAP	STARTUP_MEM	215236616
+MAP	SETUP	481000
+MAP	SETUP_MEM	215236616
+MAP	CLEANUP	113000
+MAP	CLEANUP_MEM	222087568
+MAP	TOTAL_RUN	44969118000
+MAP	READ	9445769000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	13421770
+MAP	VALUE_BYTE_COUNT	118111576
+MAP	MAP	25871695000
+MAP	WRITE	13513648000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1774628000
+MAP	SERIALIZE_OUTPUT	5278677000
+MAP	MAP_MEM	222087568
+SPILL	SORT_AND_SPILL	38100397646
+SPILL	QUICK_SORT	3173244646
+SPILL	SORT_COUNT	1342177
+SPILL	COMBINE	0
+SPILL	WRITE	34927153000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136902108
+SPILL	COMPRESS_BYTE_COUNT	20079070
+MERGE	TOTAL_MERGE	1667000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	84335834646
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00076	0
+MAP	STARTUP_MEM	216089192
+MAP	SETUP	507000
+MAP	SETUP_MEM	216089192
+MAP	CLEANUP	102000
+MAP	CLEANUP_MEM	222646448
+MAP	TOTAL_RUN	35757134000
+MAP	READ	6922043000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	13421780
+MAP	VALUE_BYTE_COUNT	118111664
+MAP	MAP	20491159000
+MAP	WRITE	7802819000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1721416000
+MAP	SERIALIZE_OUTPUT	2400702000
+MAP	MAP_MEM	222646448
+SPILL	SORT_AND_SPILL	26895121000
+SPILL	QUICK_SORT	6486682000
+SPILL	SORT_COUNT	1342178
+SPILL	COMBINE	0
+SPILL	WRITE	20408439000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136902210
+SPILL	COMPRESS_BYTE_COUNT	20067210
+MERGE	TOTAL_MERGE	1667000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	63162204000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00076	0
+MAP	STARTUP_MEM	216116448
+MAP	SETUP	526000
+MAP	SETUP_MEM	216116448
+MAP	CLEANUP	106000
+MAP	CLEANUP_MEM	222935112
+MAP	TOTAL_RUN	39390399728
+MAP	READ	6946942000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	13421770
+MAP	VALUE_BYTE_COUNT	118111576
+MAP	MAP	24345891728
+MAP	WRITE	9970650000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	2525439000
+MAP	SERIALIZE_OUTPUT	2716012000
+MAP	MAP_MEM	222935112
+SPILL	SORT_AND_SPILL	40279943516
+SPILL	QUICK_SORT	6135797000
+SPILL	SORT_COUNT	1342177
+SPILL	COMBINE	0
+SPILL	WRITE	34144146516
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136902108
+SPILL	COMPRESS_BYTE_COUNT	20076707
+MERGE	TOTAL_MERGE	2054000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	80299647244
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00077	0
+MAP	STARTUP_MEM	216101312
+MAP	SETUP	465000
+MAP	SETUP_MEM	216101312
+MAP	CLEANUP	91000
+MAP	CLEANUP_MEM	223379568
+MAP	TOTAL_RUN	25058086000
+MAP	READ	3983222000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	13421780
+MAP	VALUE_BYTE_COUNT	118111664
+MAP	MAP	16308088000
+MAP	WRITE	6662131000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1171748000
+MAP	SERIALIZE_OUTPUT	2539713000
+MAP	MAP_MEM	223379568
+SPILL	SORT_AND_SPILL	29253351000
+SPILL	QUICK_SORT	3249342000
+SPILL	SORT_COUNT	1342178
+SPILL	COMBINE	0
+SPILL	WRITE	26004009000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136902210
+SPILL	COMPRESS_BYTE_COUNT	20066400
+MERGE	TOTAL_MERGE	1598000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	55689773000
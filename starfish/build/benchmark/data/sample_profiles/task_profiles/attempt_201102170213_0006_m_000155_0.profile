@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00077	0
+MAP	STARTUP_MEM	215256936
+MAP	SETUP	466000
+MAP	SETUP_MEM	215256936
+MAP	CLEANUP	92000
+MAP	CLEANUP_MEM	223939032
+MAP	TOTAL_RUN	48856677000
+MAP	READ	8065642000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	13421770
+MAP	VALUE_BYTE_COUNT	118111576
+MAP	MAP	32788852000
+MAP	WRITE	13281558000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	3306154000
+MAP	SERIALIZE_OUTPUT	3817791000
+MAP	MAP_MEM	223939032
+SPILL	SORT_AND_SPILL	20196533000
+SPILL	QUICK_SORT	3388472000
+SPILL	SORT_COUNT	1342177
+SPILL	COMBINE	0
+SPILL	WRITE	16808061000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136902108
+SPILL	COMPRESS_BYTE_COUNT	20076931
+MERGE	TOTAL_MERGE	1760000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	73023204000
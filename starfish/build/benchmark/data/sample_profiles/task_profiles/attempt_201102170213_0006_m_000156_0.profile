@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00078	0
+MAP	STARTUP_MEM	216074360
+MAP	SETUP	500000
+MAP	SETUP_MEM	216074360
+MAP	CLEANUP	100000
+MAP	CLEANUP_MEM	223529528
+MAP	TOTAL_RUN	54168028000
+MAP	READ	10433275000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	13421780
+MAP	VALUE_BYTE_COUNT	118111664
+MAP	MAP	31483890000
+MAP	WRITE	10069436000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1630880000
+MAP	SERIALIZE_OUTPUT	2079157000
+MAP	MAP_MEM	223529528
+SPILL	SORT_AND_SPILL	20408677000
+SPILL	QUICK_SORT	3531302000
+SPILL	SORT_COUNT	1342178
+SPILL	COMBINE	0
+SPILL	WRITE	16877375000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136902210
+SPILL	COMPRESS_BYTE_COUNT	20069714
+MERGE	TOTAL_MERGE	1595000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	75004095000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00078	0
+MAP	STARTUP_MEM	215214952
+MAP	SETUP	455000
+MAP	SETUP_MEM	215214952
+MAP	CLEANUP	111000
+MAP	CLEANUP_MEM	223362960
+MAP	TOTAL_RUN	42178197000
+MAP	READ	6289497000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	13421770
+MAP	VALUE_BYTE_COUNT	118111576
+MAP	MAP	25743428000
+MAP	WRITE	11846363000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1291985000
+MAP	SERIALIZE_OUTPUT	6023779000
+MAP	MAP_MEM	223925120
+SPILL	SORT_AND_SPILL	26190816000
+SPILL	QUICK_SORT	4977576000
+SPILL	SORT_COUNT	1342177
+SPILL	COMBINE	0
+SPILL	WRITE	21213240000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136902108
+SPILL	COMPRESS_BYTE_COUNT	20077437
+MERGE	TOTAL_MERGE	1925000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	69316957000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00079	0
+MAP	STARTUP_MEM	216115264
+MAP	SETUP	502000
+MAP	SETUP_MEM	216115264
+MAP	CLEANUP	100000
+MAP	CLEANUP_MEM	223348872
+MAP	TOTAL_RUN	53979366000
+MAP	READ	19415069000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	13421780
+MAP	VALUE_BYTE_COUNT	118111664
+MAP	MAP	23743172000
+MAP	WRITE	7910410000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1489787000
+MAP	SERIALIZE_OUTPUT	2109829000
+MAP	MAP_MEM	223348872
+SPILL	SORT_AND_SPILL	28593350000
+SPILL	QUICK_SORT	6427363000
+SPILL	SORT_COUNT	1342178
+SPILL	COMBINE	0
+SPILL	WRITE	22165987000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136902210
+SPILL	COMPRESS_BYTE_COUNT	20071130
+MERGE	TOTAL_MERGE	1646000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	85324404000
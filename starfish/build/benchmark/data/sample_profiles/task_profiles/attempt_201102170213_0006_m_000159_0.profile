@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00079	0
+MAP	STARTUP_MEM	215192008
+MAP	SETUP	520000
+MAP	SETUP_MEM	215192008
+MAP	CLEANUP	89000
+MAP	CLEANUP_MEM	222104648
+MAP	TOTAL_RUN	32647397294
+MAP	READ	5708752000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	13421770
+MAP	VALUE_BYTE_COUNT	118111576
+MAP	MAP	19934940294
+MAP	WRITE	8607489000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1939143000
+MAP	SERIALIZE_OUTPUT	2627267000
+MAP	MAP_MEM	222666808
+SPILL	SORT_AND_SPILL	29269012000
+SPILL	QUICK_SORT	5151517000
+SPILL	SORT_COUNT	1342177
+SPILL	COMBINE	0
+SPILL	WRITE	24117495000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136902108
+SPILL	COMPRESS_BYTE_COUNT	20078990
+MERGE	TOTAL_MERGE	1621000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	62601511294
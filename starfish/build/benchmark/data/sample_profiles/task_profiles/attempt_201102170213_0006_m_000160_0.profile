@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00080	0
+MAP	STARTUP_MEM	215220088
+MAP	SETUP	483000
+MAP	SETUP_MEM	215220088
+MAP	CLEANUP	100000
+MAP	CLEANUP_MEM	222109776
+MAP	TOTAL_RUN	43469698236
+MAP	READ	8301890000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	13421780
+MAP	VALUE_BYTE_COUNT	118111664
+MAP	MAP	25622648236
+MAP	WRITE	10272822000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1926903000
+MAP	SERIALIZE_OUTPUT	2552591000
+MAP	MAP_MEM	222109776
+SPILL	SORT_AND_SPILL	28259930000
+SPILL	QUICK_SORT	5459833000
+SPILL	SORT_COUNT	1342178
+SPILL	COMBINE	0
+SPILL	WRITE	22800097000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136902210
+SPILL	COMPRESS_BYTE_COUNT	20067788
+MERGE	TOTAL_MERGE	1654000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	72192344236
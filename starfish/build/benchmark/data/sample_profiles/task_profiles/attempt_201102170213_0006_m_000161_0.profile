@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00080	0
+MAP	STARTUP_MEM	214975864
+MAP	SETUP	490000
+MAP	SETUP_MEM	214975864
+MAP	CLEANUP	90000
+MAP	CLEANUP_MEM	221420416
+MAP	TOTAL_RUN	37845370000
+MAP	READ	7643248000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	13421770
+MAP	VALUE_BYTE_COUNT	118111576
+MAP	MAP	24400128000
+MAP	WRITE	7333241000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1168711000
+MAP	SERIALIZE_OUTPUT	3186181000
+MAP	MAP_MEM	221420416
+SPILL	SORT_AND_SPILL	19515455000
+SPILL	QUICK_SORT	3346106000
+SPILL	SORT_COUNT	1342177
+SPILL	COMBINE	0
+SPILL	WRITE	16169349000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136902108
+SPILL	COMPRESS_BYTE_COUNT	20079603
+MERGE	TOTAL_MERGE	1606000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	57923486000
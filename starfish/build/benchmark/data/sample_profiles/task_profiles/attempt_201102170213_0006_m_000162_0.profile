@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00081	0
+MAP	STARTUP_MEM	215234152
+MAP	SETUP	460000
+MAP	SETUP_MEM	215234152
+MAP	CLEANUP	93000
+MAP	CLEANUP_MEM	222054880
+MAP	TOTAL_RUN	46108790000
+MAP	READ	7927068000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	13421780
+MAP	VALUE_BYTE_COUNT	118111664
+MAP	MAP	27158630000
+MAP	WRITE	13384235000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	2864868000
+MAP	SERIALIZE_OUTPUT	2096272000
+MAP	MAP_MEM	222054880
+SPILL	SORT_AND_SPILL	26384632000
+SPILL	QUICK_SORT	4449595000
+SPILL	SORT_COUNT	1342178
+SPILL	COMBINE	0
+SPILL	WRITE	21935037000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136902210
+SPILL	COMPRESS_BYTE_COUNT	20066993
+MERGE	TOTAL_MERGE	11517000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	74289318000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00081	0
+MAP	STARTUP_MEM	215168800
+MAP	SETUP	437000
+MAP	SETUP_MEM	215168800
+MAP	CLEANUP	98000
+MAP	CLEANUP_MEM	223382272
+MAP	TOTAL_RUN	53263360000
+MAP	READ	13693244000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	13421770
+MAP	VALUE_BYTE_COUNT	118111576
+MAP	MAP	25357229000
+MAP	WRITE	9442145000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	3906909000
+MAP	SERIALIZE_OUTPUT	2491965000
+MAP	MAP_MEM	223382272
+SPILL	SORT_AND_SPILL	34525712000
+SPILL	QUICK_SORT	3721265000
+SPILL	SORT_COUNT	1342177
+SPILL	COMBINE	0
+SPILL	WRITE	30804447000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136902108
+SPILL	COMPRESS_BYTE_COUNT	20076642
+MERGE	TOTAL_MERGE	1592000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	88776469000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00082	0
+MAP	STARTUP_MEM	216076176
+MAP	SETUP	504000
+MAP	SETUP_MEM	216076176
+MAP	CLEANUP	95000
+MAP	CLEANUP_MEM	222125056
+MAP	TOTAL_RUN	31350879000
+MAP	READ	5454011000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	13421780
+MAP	VALUE_BYTE_COUNT	118111664
+MAP	MAP	19556055000
+MAP	WRITE	8074252000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1217510000
+MAP	SERIALIZE_OUTPUT	2027269000
+MAP	MAP_MEM	222687216
+SPILL	SORT_AND_SPILL	23483843000
+SPILL	QUICK_SORT	3198731000
+SPILL	SORT_COUNT	1342178
+SPILL	COMBINE	0
+SPILL	WRITE	20285112000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136902210
+SPILL	COMPRESS_BYTE_COUNT	20069271
+MERGE	TOTAL_MERGE	1597000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	55745622000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00082	0
+MAP	STARTUP_MEM	215860888
+MAP	SETUP	503000
+MAP	SETUP_MEM	215860888
+MAP	CLEANUP	99000
+MAP	CLEANUP_MEM	222113480
+MAP	TOTAL_RUN	31042261000
+MAP	READ	7454712000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	13421770
+MAP	VALUE_BYTE_COUNT	118111576
+MAP	MAP	18842167000
+MAP	WRITE	7019509000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1190407000
+MAP	SERIALIZE_OUTPUT	2380957000
+MAP	MAP_MEM	222675640
+SPILL	SORT_AND_SPILL	20740519000
+SPILL	QUICK_SORT	3442988000
+SPILL	SORT_COUNT	1342177
+SPILL	COMBINE	0
+SPILL	WRITE	17297531000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136902108
+SPILL	COMPRESS_BYTE_COUNT	20078480
+MERGE	TOTAL_MERGE	1755000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	54110990000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00083	0
+MAP	STARTUP_MEM	215191328
+MAP	SETUP	446000
+MAP	SETUP_MEM	215191328
+MAP	CLEANUP	90000
+MAP	CLEANUP_MEM	223422648
+MAP	TOTAL_RUN	41888676646
+MAP	READ	8539335000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	13421780
+MAP	VALUE_BYTE_COUNT	118111664
+MAP	MAP	22460032000
+MAP	WRITE	9263937000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1784900000
+MAP	SERIALIZE_OUTPUT	2639220000
+MAP	MAP_MEM	223422648
+SPILL	SORT_AND_SPILL	34714008000
+SPILL	QUICK_SORT	5345152000
+SPILL	SORT_COUNT	1342178
+SPILL	COMBINE	0
+SPILL	WRITE	29368856000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136902210
+SPILL	COMPRESS_BYTE_COUNT	20068712
+MERGE	TOTAL_MERGE	1627000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	77249797646
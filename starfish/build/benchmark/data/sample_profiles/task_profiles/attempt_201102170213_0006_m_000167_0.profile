@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00083	0
+MAP	STARTUP_MEM	214486808
+MAP	SETUP	473000
+MAP	SETUP_MEM	214486808
+MAP	CLEANUP	98000
+MAP	CLEANUP_MEM	220781304
+MAP	TOTAL_RUN	34977109000
+MAP	READ	9951722000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	13421770
+MAP	VALUE_BYTE_COUNT	118111576
+MAP	MAP	20443968000
+MAP	WRITE	6976774000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1280433000
+MAP	SERIALIZE_OUTPUT	1829274000
+MAP	MAP_MEM	220781304
+SPILL	SORT_AND_SPILL	22240077000
+SPILL	QUICK_SORT	2755310000
+SPILL	SORT_COUNT	1342177
+SPILL	COMBINE	0
+SPILL	WRITE	19484767000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136902108
+SPILL	COMPRESS_BYTE_COUNT	20076720
+MERGE	TOTAL_MERGE	1780000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	63731143236
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00084	0
+MAP	STARTUP_MEM	216099384
+MAP	SETUP	532000
+MAP	SETUP_MEM	216099384
+MAP	CLEANUP	125000
+MAP	CLEANUP_MEM	222671224
+MAP	TOTAL_RUN	35337542000
+MAP	READ	8767593000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	13421780
+MAP	VALUE_BYTE_COUNT	118111664
+MAP	MAP	21535693000
+MAP	WRITE	7507939000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1519303000
+MAP	SERIALIZE_OUTPUT	2035917000
+MAP	MAP_MEM	222671224
+SPILL	SORT_AND_SPILL	35900087000
+SPILL	QUICK_SORT	3491382000
+SPILL	SORT_COUNT	1342178
+SPILL	COMBINE	0
+SPILL	WRITE	32408705000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136902210
+SPILL	COMPRESS_BYTE_COUNT	20066819
+MERGE	TOTAL_MERGE	1904000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	73927170000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00084	0
+MAP	STARTUP_MEM	215928056
+MAP	SETUP	557000
+MAP	SETUP_MEM	215928056
+MAP	CLEANUP	94000
+MAP	CLEANUP_MEM	222721512
+MAP	TOTAL_RUN	32402605991
+MAP	READ	6181590000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	13421770
+MAP	VALUE_BYTE_COUNT	118111576
+MAP	MAP	19790950991
+MAP	WRITE	8388156000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1553059000
+MAP	SERIALIZE_OUTPUT	2538571000
+MAP	MAP_MEM	222721512
+SPILL	SORT_AND_SPILL	38885628294
+SPILL	QUICK_SORT	3344787000
+SPILL	SORT_COUNT	1342177
+SPILL	COMBINE	0
+SPILL	WRITE	35540841294
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136902108
+SPILL	COMPRESS_BYTE_COUNT	20076934
+MERGE	TOTAL_MERGE	1644000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	72008455285
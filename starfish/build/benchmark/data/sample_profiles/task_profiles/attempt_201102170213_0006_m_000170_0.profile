@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00085	0
+MAP	STARTUP_MEM	215207776
+MAP	SETUP	441000
+MAP	SETUP_MEM	215207776
+MAP	CLEANUP	114000
+MAP	CLEANUP_MEM	223344304
+MAP	TOTAL_RUN	51286951000
+MAP	READ	11658208000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	13421780
+MAP	VALUE_BYTE_COUNT	118111664
+MAP	MAP	33408706000
+MAP	WRITE	12501467000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1230806000
+MAP	SERIALIZE_OUTPUT	3221589000
+MAP	MAP_MEM	223344304
+SPILL	SORT_AND_SPILL	21764041000
+SPILL	QUICK_SORT	3290200000
+SPILL	SORT_COUNT	1342178
+SPILL	COMBINE	0
+SPILL	WRITE	18473841000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136902210
+SPILL	COMPRESS_BYTE_COUNT	20067431
+MERGE	TOTAL_MERGE	1651000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	73547087000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00085	0
+MAP	STARTUP_MEM	215828016
+MAP	SETUP	579000
+MAP	SETUP_MEM	215828016
+MAP	CLEANUP	183000
+MAP	CLEANUP_MEM	222135408
+MAP	TOTAL_RUN	58254714000
+MAP	READ	14301612000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	13421770
+MAP	VALUE_BYTE_COUNT	118111576
+MAP	MAP	37162546000
+MAP	WRITE	17931467000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	6550602000
+MAP	SERIALIZE_OUTPUT	4749258000
+MAP	MAP_MEM	222135408
+SPILL	SORT_AND_SPILL	36378091000
+SPILL	QUICK_SORT	5282223000
+SPILL	SORT_COUNT	1342177
+SPILL	COMBINE	0
+SPILL	WRITE	31095868000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136902108
+SPILL	COMPRESS_BYTE_COUNT	20077624
+MERGE	TOTAL_MERGE	2160000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	95735103000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00086	0
+MAP	STARTUP_MEM	216065624
+MAP	SETUP	534000
+MAP	SETUP_MEM	216065624
+MAP	CLEANUP	88000
+MAP	CLEANUP_MEM	222656984
+MAP	TOTAL_RUN	35183032000
+MAP	READ	6333152000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	13421780
+MAP	VALUE_BYTE_COUNT	118111664
+MAP	MAP	22693929000
+MAP	WRITE	9272934000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	2583768000
+MAP	SERIALIZE_OUTPUT	2635196000
+MAP	MAP_MEM	222656984
+SPILL	SORT_AND_SPILL	35612728000
+SPILL	QUICK_SORT	14945711000
+SPILL	SORT_COUNT	1342178
+SPILL	COMBINE	0
+SPILL	WRITE	20667017000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136902210
+SPILL	COMPRESS_BYTE_COUNT	20068028
+MERGE	TOTAL_MERGE	1613000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	71482492000
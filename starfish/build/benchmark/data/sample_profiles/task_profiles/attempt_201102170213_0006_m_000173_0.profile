@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00086	0
+MAP	STARTUP_MEM	215331008
+MAP	SETUP	464000
+MAP	SETUP_MEM	215331008
+MAP	CLEANUP	95000
+MAP	CLEANUP_MEM	226253472
+MAP	TOTAL_RUN	33578311516
+MAP	READ	6331503000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	13421770
+MAP	VALUE_BYTE_COUNT	118111576
+MAP	MAP	18742410516
+MAP	WRITE	7997997516
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1564408516
+MAP	SERIALIZE_OUTPUT	2491286000
+MAP	MAP_MEM	226253472
+SPILL	SORT_AND_SPILL	52370992243
+SPILL	QUICK_SORT	5676341000
+SPILL	SORT_COUNT	1342177
+SPILL	COMBINE	0
+SPILL	WRITE	46694651243
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136902108
+SPILL	COMPRESS_BYTE_COUNT	20077198
+MERGE	TOTAL_MERGE	1684000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	87136664759
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00087	0
+MAP	STARTUP_MEM	216106272
+MAP	SETUP	469000
+MAP	SETUP_MEM	216106272
+MAP	CLEANUP	90000
+MAP	CLEANUP_MEM	223396752
+MAP	TOTAL_RUN	60566204000
+MAP	READ	18373359000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	13421780
+MAP	VALUE_BYTE_COUNT	118111664
+MAP	MAP	32761893000
+MAP	WRITE	10484656000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1143958000
+MAP	SERIALIZE_OUTPUT	5617723000
+MAP	MAP_MEM	223958912
+SPILL	SORT_AND_SPILL	34918698921
+SPILL	QUICK_SORT	3352164000
+SPILL	SORT_COUNT	1342178
+SPILL	COMBINE	0
+SPILL	WRITE	31566534921
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136902210
+SPILL	COMPRESS_BYTE_COUNT	20065791
+MERGE	TOTAL_MERGE	1619000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	96181192921
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00087	0
+MAP	STARTUP_MEM	216727512
+MAP	SETUP	449000
+MAP	SETUP_MEM	216727512
+MAP	CLEANUP	109000
+MAP	CLEANUP_MEM	223395712
+MAP	TOTAL_RUN	49338039000
+MAP	READ	16145712000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	13421770
+MAP	VALUE_BYTE_COUNT	118111576
+MAP	MAP	24249199000
+MAP	WRITE	8175911000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	2389037000
+MAP	SERIALIZE_OUTPUT	2137382000
+MAP	MAP_MEM	223395712
+SPILL	SORT_AND_SPILL	30930049000
+SPILL	QUICK_SORT	3631613000
+SPILL	SORT_COUNT	1342177
+SPILL	COMBINE	0
+SPILL	WRITE	27298436000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136902108
+SPILL	COMPRESS_BYTE_COUNT	20077542
+MERGE	TOTAL_MERGE	1976000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	85783427000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00088	0
+MAP	STARTUP_MEM	216125400
+MAP	SETUP	517000
+MAP	SETUP_MEM	216125400
+MAP	CLEANUP	103000
+MAP	CLEANUP_MEM	222697224
+MAP	TOTAL_RUN	35177285991
+MAP	READ	8888483000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	13421780
+MAP	VALUE_BYTE_COUNT	118111664
+MAP	MAP	19833227991
+MAP	WRITE	8576603991
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1659228000
+MAP	SERIALIZE_OUTPUT	2695307000
+MAP	MAP_MEM	222697224
+SPILL	SORT_AND_SPILL	40926091294
+SPILL	QUICK_SORT	12725080000
+SPILL	SORT_COUNT	1342178
+SPILL	COMBINE	0
+SPILL	WRITE	28201011294
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136902210
+SPILL	COMPRESS_BYTE_COUNT	20068636
+MERGE	TOTAL_MERGE	3312000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	76770240285
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00088	0
+MAP	STARTUP_MEM	215243184
+MAP	SETUP	514000
+MAP	SETUP_MEM	215243184
+MAP	CLEANUP	101000
+MAP	CLEANUP_MEM	221995896
+MAP	TOTAL_RUN	48956412000
+MAP	READ	11910395000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	13421770
+MAP	VALUE_BYTE_COUNT	118111576
+MAP	MAP	29273170000
+MAP	WRITE	13268123000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1910657000
+MAP	SERIALIZE_OUTPUT	3750185000
+MAP	MAP_MEM	222558056
+SPILL	SORT_AND_SPILL	27552316000
+SPILL	QUICK_SORT	3002109000
+SPILL	SORT_COUNT	1342177
+SPILL	COMBINE	0
+SPILL	WRITE	24550207000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136902108
+SPILL	COMPRESS_BYTE_COUNT	20074737
+MERGE	TOTAL_MERGE	1716000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	79173644000
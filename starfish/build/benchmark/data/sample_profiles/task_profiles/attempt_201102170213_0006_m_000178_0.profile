@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00089	0
+MAP	STARTUP_MEM	216091376
+MAP	SETUP	479000
+MAP	SETUP_MEM	216091376
+MAP	CLEANUP	89000
+MAP	CLEANUP_MEM	223918848
+MAP	TOTAL_RUN	42096696000
+MAP	READ	13807803000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	13421780
+MAP	VALUE_BYTE_COUNT	118111664
+MAP	MAP	20224375000
+MAP	WRITE	9057028000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	3004120000
+MAP	SERIALIZE_OUTPUT	2183140000
+MAP	MAP_MEM	223918848
+SPILL	SORT_AND_SPILL	26627137000
+SPILL	QUICK_SORT	8231528000
+SPILL	SORT_COUNT	1342178
+SPILL	COMBINE	0
+SPILL	WRITE	18395609000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136902210
+SPILL	COMPRESS_BYTE_COUNT	20069071
+MERGE	TOTAL_MERGE	1605000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	69154500000
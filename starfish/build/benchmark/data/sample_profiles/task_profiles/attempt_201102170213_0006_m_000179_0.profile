@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00089	0
+MAP	STARTUP_MEM	214948176
+MAP	SETUP	534000
+MAP	SETUP_MEM	214948176
+MAP	CLEANUP	137000
+MAP	CLEANUP_MEM	222679096
+MAP	TOTAL_RUN	48554107000
+MAP	READ	12542073000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	13421770
+MAP	VALUE_BYTE_COUNT	118111576
+MAP	MAP	29775747000
+MAP	WRITE	16069991000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1321000000
+MAP	SERIALIZE_OUTPUT	4600795000
+MAP	MAP_MEM	222679096
+SPILL	SORT_AND_SPILL	31502224000
+SPILL	QUICK_SORT	5584924000
+SPILL	SORT_COUNT	1342177
+SPILL	COMBINE	0
+SPILL	WRITE	25917300000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136902108
+SPILL	COMPRESS_BYTE_COUNT	20080123
+MERGE	TOTAL_MERGE	1720000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	82065569000
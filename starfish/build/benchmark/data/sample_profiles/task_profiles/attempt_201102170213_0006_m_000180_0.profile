@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00090	0
+MAP	STARTUP_MEM	216041296
+MAP	SETUP	497000
+MAP	SETUP_MEM	216041296
+MAP	CLEANUP	94000
+MAP	CLEANUP_MEM	225187744
+MAP	TOTAL_RUN	43031542000
+MAP	READ	6148225000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	13421780
+MAP	VALUE_BYTE_COUNT	118111664
+MAP	MAP	28117397000
+MAP	WRITE	11919458000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1268612000
+MAP	SERIALIZE_OUTPUT	2949117000
+MAP	MAP_MEM	225187744
+SPILL	SORT_AND_SPILL	37524436000
+SPILL	QUICK_SORT	3786803000
+SPILL	SORT_COUNT	1342178
+SPILL	COMBINE	0
+SPILL	WRITE	33737633000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136902210
+SPILL	COMPRESS_BYTE_COUNT	20067678
+MERGE	TOTAL_MERGE	1885000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	83566237000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00090	0
+MAP	STARTUP_MEM	215198128
+MAP	SETUP	729000
+MAP	SETUP_MEM	215198128
+MAP	CLEANUP	121000
+MAP	CLEANUP_MEM	222122360
+MAP	TOTAL_RUN	33003282798
+MAP	READ	6182439000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	13421770
+MAP	VALUE_BYTE_COUNT	118111576
+MAP	MAP	20142825798
+MAP	WRITE	8588250000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1942249000
+MAP	SERIALIZE_OUTPUT	2635704000
+MAP	MAP_MEM	222684520
+SPILL	SORT_AND_SPILL	52185365950
+SPILL	QUICK_SORT	7541048000
+SPILL	SORT_COUNT	1342177
+SPILL	COMBINE	0
+SPILL	WRITE	44644317950
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136902108
+SPILL	COMPRESS_BYTE_COUNT	20080032
+MERGE	TOTAL_MERGE	1603000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	85906755748
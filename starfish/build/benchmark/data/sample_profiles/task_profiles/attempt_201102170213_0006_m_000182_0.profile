@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00091	0
+MAP	STARTUP_MEM	216016392
+MAP	SETUP	492000
+MAP	SETUP_MEM	216016392
+MAP	CLEANUP	88000
+MAP	CLEANUP_MEM	223925392
+MAP	TOTAL_RUN	61632897000
+MAP	READ	10147863000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	13421780
+MAP	VALUE_BYTE_COUNT	118111664
+MAP	MAP	37025177000
+MAP	WRITE	19465582000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	2628869000
+MAP	SERIALIZE_OUTPUT	12344952000
+MAP	MAP_MEM	223925392
+SPILL	SORT_AND_SPILL	36583333000
+SPILL	QUICK_SORT	3866782000
+SPILL	SORT_COUNT	1342178
+SPILL	COMBINE	0
+SPILL	WRITE	32716551000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136902210
+SPILL	COMPRESS_BYTE_COUNT	20068275
+MERGE	TOTAL_MERGE	1609000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	99753987000
@@ -0,0 +1,34 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00091	0
+MAP	STARTUP_MEM	214849440
+MAP	SETUP	516000
+MAP	SETUP_MEM	214849440
+MAP	CLEANUP	81000
+MAP	CLEANUP_MEM	220924512
+MAP	TOTAL_RUN	28016676000
+MAP	READ	6496208000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	13421770
+MAP	VALUE_BYTE_COUNT	118111576
+MAP	MAP	16980584000
+MAP	WRITE	7372214000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1711228000
+MAP	SERIALIZE_OUTPUT	2128297000
+MAP	MAP_MEM	220924512
+SPILL	SORT_AND_SPILL	18985775000
+SPILL	QUICK_SORT	3278119000
+SPILL	SORT_COUNT	1342177
+SPILL	COMBINE	0
+SPILL	WRITE	15707656000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136902108
+SPILL	COMPRESS_BYTE_COUNT	20078343
+MERGE	TOTAL_MERGE	1646000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
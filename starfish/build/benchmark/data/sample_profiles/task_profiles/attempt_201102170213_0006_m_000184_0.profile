@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00092	0
+MAP	STARTUP_MEM	216115904
+MAP	SETUP	502000
+MAP	SETUP_MEM	216115904
+MAP	CLEANUP	85000
+MAP	CLEANUP_MEM	223922264
+MAP	TOTAL_RUN	36053312000
+MAP	READ	5994964000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	13421780
+MAP	VALUE_BYTE_COUNT	118111664
+MAP	MAP	22669473000
+MAP	WRITE	10939416000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1594944000
+MAP	SERIALIZE_OUTPUT	3190044000
+MAP	MAP_MEM	223922264
+SPILL	SORT_AND_SPILL	35469213000
+SPILL	QUICK_SORT	5718025000
+SPILL	SORT_COUNT	1342178
+SPILL	COMBINE	0
+SPILL	WRITE	29751188000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136902210
+SPILL	COMPRESS_BYTE_COUNT	20067732
+MERGE	TOTAL_MERGE	1711000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	71999158000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00092	0
+MAP	STARTUP_MEM	215190640
+MAP	SETUP	462000
+MAP	SETUP_MEM	215190640
+MAP	CLEANUP	116000
+MAP	CLEANUP_MEM	222655736
+MAP	TOTAL_RUN	34818944000
+MAP	READ	5943442000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	13421770
+MAP	VALUE_BYTE_COUNT	118111576
+MAP	MAP	21773793000
+MAP	WRITE	7763947000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1443626000
+MAP	SERIALIZE_OUTPUT	2246565000
+MAP	MAP_MEM	222655736
+SPILL	SORT_AND_SPILL	23334937000
+SPILL	QUICK_SORT	6452042000
+SPILL	SORT_COUNT	1342177
+SPILL	COMBINE	0
+SPILL	WRITE	16882895000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136902108
+SPILL	COMPRESS_BYTE_COUNT	20077367
+MERGE	TOTAL_MERGE	1881000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	60087286000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00093	0
+MAP	STARTUP_MEM	216071344
+MAP	SETUP	516000
+MAP	SETUP_MEM	216071344
+MAP	CLEANUP	203000
+MAP	CLEANUP_MEM	223394368
+MAP	TOTAL_RUN	69674879798
+MAP	READ	12727250000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	13421780
+MAP	VALUE_BYTE_COUNT	118111664
+MAP	MAP	46563081798
+MAP	WRITE	23109431798
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	5013350798
+MAP	SERIALIZE_OUTPUT	5329811000
+MAP	MAP_MEM	223956528
+SPILL	SORT_AND_SPILL	24561822950
+SPILL	QUICK_SORT	5077574950
+SPILL	SORT_COUNT	1342178
+SPILL	COMBINE	0
+SPILL	WRITE	19484248000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136902210
+SPILL	COMPRESS_BYTE_COUNT	20068717
+MERGE	TOTAL_MERGE	1786000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	94766831748
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00093	0
+MAP	STARTUP_MEM	214930184
+MAP	SETUP	501000
+MAP	SETUP_MEM	214930184
+MAP	CLEANUP	91000
+MAP	CLEANUP_MEM	221853768
+MAP	TOTAL_RUN	27362122000
+MAP	READ	6450857000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	13421770
+MAP	VALUE_BYTE_COUNT	118111576
+MAP	MAP	16012017000
+MAP	WRITE	6471194000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1140129000
+MAP	SERIALIZE_OUTPUT	1988920000
+MAP	MAP_MEM	221853768
+SPILL	SORT_AND_SPILL	19523832000
+SPILL	QUICK_SORT	3110347000
+SPILL	SORT_COUNT	1342177
+SPILL	COMBINE	0
+SPILL	WRITE	16413485000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136902108
+SPILL	COMPRESS_BYTE_COUNT	20080772
+MERGE	TOTAL_MERGE	1634000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	49024113000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00094	0
+MAP	STARTUP_MEM	215260408
+MAP	SETUP	487000
+MAP	SETUP_MEM	215260408
+MAP	CLEANUP	92000
+MAP	CLEANUP_MEM	222167824
+MAP	TOTAL_RUN	38246397000
+MAP	READ	9239642000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	13421780
+MAP	VALUE_BYTE_COUNT	118111664
+MAP	MAP	22982581000
+MAP	WRITE	11325536000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1892382000
+MAP	SERIALIZE_OUTPUT	3277689000
+MAP	MAP_MEM	222167824
+SPILL	SORT_AND_SPILL	33090077000
+SPILL	QUICK_SORT	10997096000
+SPILL	SORT_COUNT	1342178
+SPILL	COMBINE	0
+SPILL	WRITE	22092981000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136902210
+SPILL	COMPRESS_BYTE_COUNT	20067769
+MERGE	TOTAL_MERGE	1597000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	72255506000
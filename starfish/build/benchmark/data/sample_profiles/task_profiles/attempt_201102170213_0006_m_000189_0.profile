@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00094	0
+MAP	STARTUP_MEM	215793904
+MAP	SETUP	520000
+MAP	SETUP_MEM	215793904
+MAP	CLEANUP	95000
+MAP	CLEANUP_MEM	222652256
+MAP	TOTAL_RUN	44114710000
+MAP	READ	9282538000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	13421770
+MAP	VALUE_BYTE_COUNT	118111576
+MAP	MAP	26477149000
+MAP	WRITE	11862300000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1847769000
+MAP	SERIALIZE_OUTPUT	3091415000
+MAP	MAP_MEM	222652256
+SPILL	SORT_AND_SPILL	20302061000
+SPILL	QUICK_SORT	3218390000
+SPILL	SORT_COUNT	1342177
+SPILL	COMBINE	0
+SPILL	WRITE	17083671000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136902108
+SPILL	COMPRESS_BYTE_COUNT	20077509
+MERGE	TOTAL_MERGE	1687000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	65089520000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00095	0
+MAP	STARTUP_MEM	216079472
+MAP	SETUP	474000
+MAP	SETUP_MEM	216079472
+MAP	CLEANUP	92000
+MAP	CLEANUP_MEM	223959928
+MAP	TOTAL_RUN	38925152000
+MAP	READ	9944168000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	13421780
+MAP	VALUE_BYTE_COUNT	118111664
+MAP	MAP	22884068000
+MAP	WRITE	11545838000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	2789837000
+MAP	SERIALIZE_OUTPUT	4475511000
+MAP	MAP_MEM	223959928
+SPILL	SORT_AND_SPILL	39581480000
+SPILL	QUICK_SORT	10682479000
+SPILL	SORT_COUNT	1342178
+SPILL	COMBINE	0
+SPILL	WRITE	28899001000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136902210
+SPILL	COMPRESS_BYTE_COUNT	20068800
+MERGE	TOTAL_MERGE	1586000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	79345071000
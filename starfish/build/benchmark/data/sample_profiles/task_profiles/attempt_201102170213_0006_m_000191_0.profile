@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00095	0
+MAP	STARTUP_MEM	215056632
+MAP	SETUP	453000
+MAP	SETUP_MEM	215056632
+MAP	CLEANUP	93000
+MAP	CLEANUP_MEM	222107488
+MAP	TOTAL_RUN	40593034000
+MAP	READ	8524677000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	13421770
+MAP	VALUE_BYTE_COUNT	118111576
+MAP	MAP	24920878000
+MAP	WRITE	10263234000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1187775000
+MAP	SERIALIZE_OUTPUT	3470971000
+MAP	MAP_MEM	222669648
+SPILL	SORT_AND_SPILL	43397011000
+SPILL	QUICK_SORT	3140494000
+SPILL	SORT_COUNT	1342177
+SPILL	COMBINE	0
+SPILL	WRITE	40256517000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136902108
+SPILL	COMPRESS_BYTE_COUNT	20078610
+MERGE	TOTAL_MERGE	1703000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	86509616000
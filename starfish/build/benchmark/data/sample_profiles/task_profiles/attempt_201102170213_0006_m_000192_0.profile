@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00096	0
+MAP	STARTUP_MEM	215167688
+MAP	SETUP	431000
+MAP	SETUP_MEM	215167688
+MAP	CLEANUP	97000
+MAP	CLEANUP_MEM	222028432
+MAP	TOTAL_RUN	35476102000
+MAP	READ	6942048000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	13421780
+MAP	VALUE_BYTE_COUNT	118111664
+MAP	MAP	19650898000
+MAP	WRITE	10237328000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	5082703000
+MAP	SERIALIZE_OUTPUT	2196816000
+MAP	MAP_MEM	222028432
+SPILL	SORT_AND_SPILL	32886824000
+SPILL	QUICK_SORT	3160456000
+SPILL	SORT_COUNT	1342178
+SPILL	COMBINE	0
+SPILL	WRITE	29726368000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136902210
+SPILL	COMPRESS_BYTE_COUNT	20065966
+MERGE	TOTAL_MERGE	1640000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	70181985000
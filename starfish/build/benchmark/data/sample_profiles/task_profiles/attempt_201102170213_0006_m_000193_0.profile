@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00096	0
+MAP	STARTUP_MEM	216170512
+MAP	SETUP	692000
+MAP	SETUP_MEM	216170512
+MAP	CLEANUP	96000
+MAP	CLEANUP_MEM	221366008
+MAP	TOTAL_RUN	45020894000
+MAP	READ	14716192000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	13421770
+MAP	VALUE_BYTE_COUNT	118111576
+MAP	MAP	19872878000
+MAP	WRITE	8214662000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1259913000
+MAP	SERIALIZE_OUTPUT	2942963000
+MAP	MAP_MEM	221366008
+SPILL	SORT_AND_SPILL	24598062000
+SPILL	QUICK_SORT	3177646000
+SPILL	SORT_COUNT	1342177
+SPILL	COMBINE	0
+SPILL	WRITE	21420416000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136902108
+SPILL	COMPRESS_BYTE_COUNT	20075772
+MERGE	TOTAL_MERGE	1636000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	73741992000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00097	0
+MAP	STARTUP_MEM	215307096
+MAP	SETUP	450000
+MAP	SETUP_MEM	215307096
+MAP	CLEANUP	105000
+MAP	CLEANUP_MEM	223878696
+MAP	TOTAL_RUN	34747027000
+MAP	READ	6811054000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	13421780
+MAP	VALUE_BYTE_COUNT	118111664
+MAP	MAP	22259217000
+MAP	WRITE	8170142000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1421893000
+MAP	SERIALIZE_OUTPUT	2588204000
+MAP	MAP_MEM	223878696
+SPILL	SORT_AND_SPILL	46392801000
+SPILL	QUICK_SORT	13511975000
+SPILL	SORT_COUNT	1342178
+SPILL	COMBINE	0
+SPILL	WRITE	32880826000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136902210
+SPILL	COMPRESS_BYTE_COUNT	20066573
+MERGE	TOTAL_MERGE	1952000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	82489466000
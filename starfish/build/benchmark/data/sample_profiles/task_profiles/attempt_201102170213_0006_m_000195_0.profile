@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00097	0
+MAP	STARTUP_MEM	215251232
+MAP	SETUP	465000
+MAP	SETUP_MEM	215251232
+MAP	CLEANUP	102000
+MAP	CLEANUP_MEM	222675728
+MAP	TOTAL_RUN	46714327000
+MAP	READ	13676543000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	13421770
+MAP	VALUE_BYTE_COUNT	118111576
+MAP	MAP	27925885000
+MAP	WRITE	11749380000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	3003294000
+MAP	SERIALIZE_OUTPUT	2713939000
+MAP	MAP_MEM	222675728
+SPILL	SORT_AND_SPILL	22324769000
+SPILL	QUICK_SORT	3124993000
+SPILL	SORT_COUNT	1342177
+SPILL	COMBINE	0
+SPILL	WRITE	19199776000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136902108
+SPILL	COMPRESS_BYTE_COUNT	20078325
+MERGE	TOTAL_MERGE	1619000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	70684037000
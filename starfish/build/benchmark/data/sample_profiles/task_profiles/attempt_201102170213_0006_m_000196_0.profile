@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00098	0
+MAP	STARTUP_MEM	216964288
+MAP	SETUP	529000
+MAP	SETUP_MEM	216964288
+MAP	CLEANUP	121000
+MAP	CLEANUP_MEM	225750616
+MAP	TOTAL_RUN	41471400000
+MAP	READ	13600685000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	13421780
+MAP	VALUE_BYTE_COUNT	118111664
+MAP	MAP	20986833000
+MAP	WRITE	8778681000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1757883000
+MAP	SERIALIZE_OUTPUT	2952865000
+MAP	MAP_MEM	226312776
+SPILL	SORT_AND_SPILL	37845361000
+SPILL	QUICK_SORT	5253582000
+SPILL	SORT_COUNT	1342178
+SPILL	COMBINE	0
+SPILL	WRITE	32591779000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136902210
+SPILL	COMPRESS_BYTE_COUNT	20069141
+MERGE	TOTAL_MERGE	1657000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	85433939000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00098	0
+MAP	STARTUP_MEM	215930984
+MAP	SETUP	524000
+MAP	SETUP_MEM	215930984
+MAP	CLEANUP	98000
+MAP	CLEANUP_MEM	220873912
+MAP	TOTAL_RUN	33623555000
+MAP	READ	6911084000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	13421770
+MAP	VALUE_BYTE_COUNT	118111576
+MAP	MAP	20326283000
+MAP	WRITE	8026470000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1644827000
+MAP	SERIALIZE_OUTPUT	2485352000
+MAP	MAP_MEM	220873912
+SPILL	SORT_AND_SPILL	29458894143
+SPILL	QUICK_SORT	4975026000
+SPILL	SORT_COUNT	1342177
+SPILL	COMBINE	0
+SPILL	WRITE	24483868143
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136902108
+SPILL	COMPRESS_BYTE_COUNT	20078158
+MERGE	TOTAL_MERGE	1701000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	64246735143
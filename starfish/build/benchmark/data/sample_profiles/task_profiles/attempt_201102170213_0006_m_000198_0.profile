@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00099	0
+MAP	STARTUP_MEM	216118072
+MAP	SETUP	514000
+MAP	SETUP_MEM	216118072
+MAP	CLEANUP	95000
+MAP	CLEANUP_MEM	225767776
+MAP	TOTAL_RUN	31632749000
+MAP	READ	4995685000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	13421780
+MAP	VALUE_BYTE_COUNT	118111664
+MAP	MAP	19744312000
+MAP	WRITE	7621195000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	2742280000
+MAP	SERIALIZE_OUTPUT	1773548000
+MAP	MAP_MEM	226329936
+SPILL	SORT_AND_SPILL	42289585000
+SPILL	QUICK_SORT	7627663000
+SPILL	SORT_COUNT	1342178
+SPILL	COMBINE	0
+SPILL	WRITE	34661922000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136902210
+SPILL	COMPRESS_BYTE_COUNT	20069036
+MERGE	TOTAL_MERGE	2028000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	78437347000
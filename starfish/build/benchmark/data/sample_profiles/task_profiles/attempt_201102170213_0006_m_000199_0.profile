@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00099	0
+MAP	STARTUP_MEM	215489960
+MAP	SETUP	502000
+MAP	SETUP_MEM	215489960
+MAP	CLEANUP	101000
+MAP	CLEANUP_MEM	223230792
+MAP	TOTAL_RUN	41822785000
+MAP	READ	9429584000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	13421770
+MAP	VALUE_BYTE_COUNT	118111576
+MAP	MAP	26881468000
+MAP	WRITE	14121148000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1652072000
+MAP	SERIALIZE_OUTPUT	3898706000
+MAP	MAP_MEM	223792952
+SPILL	SORT_AND_SPILL	26822392406
+SPILL	QUICK_SORT	3227267000
+SPILL	SORT_COUNT	1342177
+SPILL	COMBINE	0
+SPILL	WRITE	23595125406
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	136902108
+SPILL	COMPRESS_BYTE_COUNT	20076534
+MERGE	TOTAL_MERGE	1591000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	72504102406
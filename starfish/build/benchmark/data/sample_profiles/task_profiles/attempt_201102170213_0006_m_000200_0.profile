@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00000	0
+MAP	STARTUP_MEM	215184584
+MAP	SETUP	503000
+MAP	SETUP_MEM	215184584
+MAP	CLEANUP	96000
+MAP	CLEANUP_MEM	251277800
+MAP	TOTAL_RUN	9882333000
+MAP	READ	2348157000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	3156450
+MAP	VALUE_BYTE_COUNT	27776760
+MAP	MAP	5935009000
+MAP	WRITE	2484630000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	487833000
+MAP	SERIALIZE_OUTPUT	730758000
+MAP	MAP_MEM	251277800
+SPILL	SORT_AND_SPILL	7564884000
+SPILL	QUICK_SORT	745194000
+SPILL	SORT_COUNT	315645
+SPILL	COMBINE	0
+SPILL	WRITE	6819690000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	32195844
+SPILL	COMPRESS_BYTE_COUNT	4672050
+MERGE	TOTAL_MERGE	1691000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	18392170000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00001	0
+MAP	STARTUP_MEM	217955408
+MAP	SETUP	466000
+MAP	SETUP_MEM	217955408
+MAP	CLEANUP	92000
+MAP	CLEANUP_MEM	250775248
+MAP	TOTAL_RUN	11159683000
+MAP	READ	2020230000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	3156450
+MAP	VALUE_BYTE_COUNT	27776760
+MAP	MAP	6296751000
+MAP	WRITE	3459431000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	286427000
+MAP	SERIALIZE_OUTPUT	901092000
+MAP	MAP_MEM	250775248
+SPILL	SORT_AND_SPILL	6838065000
+SPILL	QUICK_SORT	478794000
+SPILL	SORT_COUNT	315645
+SPILL	COMBINE	0
+SPILL	WRITE	6359271000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	32195844
+SPILL	COMPRESS_BYTE_COUNT	4672171
+MERGE	TOTAL_MERGE	1949000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	22444650000
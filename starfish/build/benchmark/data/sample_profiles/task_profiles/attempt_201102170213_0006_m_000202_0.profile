@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00002	0
+MAP	STARTUP_MEM	215240576
+MAP	SETUP	490000
+MAP	SETUP_MEM	215240576
+MAP	CLEANUP	93000
+MAP	CLEANUP_MEM	248497160
+MAP	TOTAL_RUN	8006277000
+MAP	READ	1417204000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	3156450
+MAP	VALUE_BYTE_COUNT	27776760
+MAP	MAP	4898857000
+MAP	WRITE	2745668000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1163270000
+MAP	SERIALIZE_OUTPUT	652473000
+MAP	MAP_MEM	249059320
+SPILL	SORT_AND_SPILL	4071118000
+SPILL	QUICK_SORT	467574000
+SPILL	SORT_COUNT	315645
+SPILL	COMBINE	0
+SPILL	WRITE	3603544000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	32195844
+SPILL	COMPRESS_BYTE_COUNT	4670789
+MERGE	TOTAL_MERGE	1614000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	14448258000
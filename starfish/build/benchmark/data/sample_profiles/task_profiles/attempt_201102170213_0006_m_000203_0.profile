@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00003	0
+MAP	STARTUP_MEM	215997264
+MAP	SETUP	588000
+MAP	SETUP_MEM	215997264
+MAP	CLEANUP	97000
+MAP	CLEANUP_MEM	247279888
+MAP	TOTAL_RUN	7923588000
+MAP	READ	2099861000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	3156450
+MAP	VALUE_BYTE_COUNT	27776760
+MAP	MAP	4559017000
+MAP	WRITE	1467177000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	277281000
+MAP	SERIALIZE_OUTPUT	492830000
+MAP	MAP_MEM	247279888
+SPILL	SORT_AND_SPILL	4180055000
+SPILL	QUICK_SORT	559945000
+SPILL	SORT_COUNT	315645
+SPILL	COMBINE	0
+SPILL	WRITE	3620110000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	32195844
+SPILL	COMPRESS_BYTE_COUNT	4672418
+MERGE	TOTAL_MERGE	1797000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	13057427000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00004	0
+MAP	STARTUP_MEM	214993920
+MAP	SETUP	492000
+MAP	SETUP_MEM	214993920
+MAP	CLEANUP	93000
+MAP	CLEANUP_MEM	248253936
+MAP	TOTAL_RUN	5934495000
+MAP	READ	1064910000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	3156450
+MAP	VALUE_BYTE_COUNT	27776760
+MAP	MAP	3542028000
+MAP	WRITE	1519253000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	303641000
+MAP	SERIALIZE_OUTPUT	553583000
+MAP	MAP_MEM	248816096
+SPILL	SORT_AND_SPILL	4128026000
+SPILL	QUICK_SORT	476292000
+SPILL	SORT_COUNT	315645
+SPILL	COMBINE	0
+SPILL	WRITE	3651734000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	32195844
+SPILL	COMPRESS_BYTE_COUNT	4672135
+MERGE	TOTAL_MERGE	1684000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	11434731000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00005	0
+MAP	STARTUP_MEM	217489656
+MAP	SETUP	507000
+MAP	SETUP_MEM	217489656
+MAP	CLEANUP	96000
+MAP	CLEANUP_MEM	250965952
+MAP	TOTAL_RUN	8288897000
+MAP	READ	2103247000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	3156450
+MAP	VALUE_BYTE_COUNT	27776760
+MAP	MAP	4954543000
+MAP	WRITE	2397856000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	353933000
+MAP	SERIALIZE_OUTPUT	398941000
+MAP	MAP_MEM	250965952
+SPILL	SORT_AND_SPILL	10518970000
+SPILL	QUICK_SORT	650053000
+SPILL	SORT_COUNT	315645
+SPILL	COMBINE	0
+SPILL	WRITE	9868917000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	32195844
+SPILL	COMPRESS_BYTE_COUNT	4671332
+MERGE	TOTAL_MERGE	1638000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	25376385000
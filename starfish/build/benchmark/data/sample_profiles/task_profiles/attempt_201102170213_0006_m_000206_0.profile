@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00006	0
+MAP	STARTUP_MEM	215263728
+MAP	SETUP	525000
+MAP	SETUP_MEM	215263728
+MAP	CLEANUP	95000
+MAP	CLEANUP_MEM	248395288
+MAP	TOTAL_RUN	7378496000
+MAP	READ	1256843000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	3156450
+MAP	VALUE_BYTE_COUNT	27776760
+MAP	MAP	4706533000
+MAP	WRITE	1982749000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	520098000
+MAP	SERIALIZE_OUTPUT	548286000
+MAP	MAP_MEM	248957448
+SPILL	SORT_AND_SPILL	4870432000
+SPILL	QUICK_SORT	467460000
+SPILL	SORT_COUNT	315645
+SPILL	COMBINE	0
+SPILL	WRITE	4402972000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	32195844
+SPILL	COMPRESS_BYTE_COUNT	4672791
+MERGE	TOTAL_MERGE	1664000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	14827680000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00007	0
+MAP	STARTUP_MEM	216072696
+MAP	SETUP	20503000
+MAP	SETUP_MEM	216072696
+MAP	CLEANUP	91000
+MAP	CLEANUP_MEM	247239424
+MAP	TOTAL_RUN	6164731000
+MAP	READ	1123278000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	3156450
+MAP	VALUE_BYTE_COUNT	27776760
+MAP	MAP	3916203000
+MAP	WRITE	1500838000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	269222000
+MAP	SERIALIZE_OUTPUT	536446000
+MAP	MAP_MEM	247801584
+SPILL	SORT_AND_SPILL	4634533000
+SPILL	QUICK_SORT	427251000
+SPILL	SORT_COUNT	315645
+SPILL	COMBINE	0
+SPILL	WRITE	4207282000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	32195844
+SPILL	COMPRESS_BYTE_COUNT	4672194
+MERGE	TOTAL_MERGE	1629000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	11366036000
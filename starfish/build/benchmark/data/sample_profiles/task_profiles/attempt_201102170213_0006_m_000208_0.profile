@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00008	0
+MAP	STARTUP_MEM	215010728
+MAP	SETUP	479000
+MAP	SETUP_MEM	215010728
+MAP	CLEANUP	95000
+MAP	CLEANUP_MEM	247161768
+MAP	TOTAL_RUN	5965644000
+MAP	READ	1080442000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	3156450
+MAP	VALUE_BYTE_COUNT	27776760
+MAP	MAP	3708118000
+MAP	WRITE	1496976000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	283173000
+MAP	SERIALIZE_OUTPUT	495723000
+MAP	MAP_MEM	247531104
+SPILL	SORT_AND_SPILL	4246206000
+SPILL	QUICK_SORT	442283000
+SPILL	SORT_COUNT	315645
+SPILL	COMBINE	0
+SPILL	WRITE	3803923000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	32195844
+SPILL	COMPRESS_BYTE_COUNT	4671652
+MERGE	TOTAL_MERGE	1600000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	11209164000
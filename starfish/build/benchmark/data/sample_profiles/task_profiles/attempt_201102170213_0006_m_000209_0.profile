@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00009	0
+MAP	STARTUP_MEM	216066656
+MAP	SETUP	502000
+MAP	SETUP_MEM	216066656
+MAP	CLEANUP	96000
+MAP	CLEANUP_MEM	250668080
+MAP	TOTAL_RUN	12351187000
+MAP	READ	3337104000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	3156450
+MAP	VALUE_BYTE_COUNT	27776760
+MAP	MAP	7949869000
+MAP	WRITE	4787911000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	273628000
+MAP	SERIALIZE_OUTPUT	1206074000
+MAP	MAP_MEM	250668080
+SPILL	SORT_AND_SPILL	10955365000
+SPILL	QUICK_SORT	3864491000
+SPILL	SORT_COUNT	315645
+SPILL	COMBINE	0
+SPILL	WRITE	7090874000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	32195844
+SPILL	COMPRESS_BYTE_COUNT	4670668
+MERGE	TOTAL_MERGE	1828000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	26010833000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00010	0
+MAP	STARTUP_MEM	215186672
+MAP	SETUP	522000
+MAP	SETUP_MEM	215186672
+MAP	CLEANUP	103000
+MAP	CLEANUP_MEM	247796088
+MAP	TOTAL_RUN	7959782000
+MAP	READ	1609809000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	3156450
+MAP	VALUE_BYTE_COUNT	27776760
+MAP	MAP	4788225000
+MAP	WRITE	1796227000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	388955000
+MAP	SERIALIZE_OUTPUT	552505000
+MAP	MAP_MEM	247796088
+SPILL	SORT_AND_SPILL	5905409000
+SPILL	QUICK_SORT	465842000
+SPILL	SORT_COUNT	315645
+SPILL	COMBINE	0
+SPILL	WRITE	5439567000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	32195844
+SPILL	COMPRESS_BYTE_COUNT	4671226
+MERGE	TOTAL_MERGE	1625000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	15151927000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00011	0
+MAP	STARTUP_MEM	215334432
+MAP	SETUP	490000
+MAP	SETUP_MEM	215334432
+MAP	CLEANUP	96000
+MAP	CLEANUP_MEM	248867456
+MAP	TOTAL_RUN	8473275000
+MAP	READ	1841126000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	3156450
+MAP	VALUE_BYTE_COUNT	27776760
+MAP	MAP	4937303000
+MAP	WRITE	1947328000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	344241000
+MAP	SERIALIZE_OUTPUT	560042000
+MAP	MAP_MEM	248867456
+SPILL	SORT_AND_SPILL	20994945243
+SPILL	QUICK_SORT	3395039000
+SPILL	SORT_COUNT	315645
+SPILL	COMBINE	0
+SPILL	WRITE	17599906243
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	32195844
+SPILL	COMPRESS_BYTE_COUNT	4672005
+MERGE	TOTAL_MERGE	1799000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	30567451243
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00012	0
+MAP	STARTUP_MEM	215248336
+MAP	SETUP	461000
+MAP	SETUP_MEM	215248336
+MAP	CLEANUP	98000
+MAP	CLEANUP_MEM	248566952
+MAP	TOTAL_RUN	7819727000
+MAP	READ	1381472000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	3156450
+MAP	VALUE_BYTE_COUNT	27776760
+MAP	MAP	5212046000
+MAP	WRITE	2009535000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	373837000
+MAP	SERIALIZE_OUTPUT	813536000
+MAP	MAP_MEM	249129112
+SPILL	SORT_AND_SPILL	4024286000
+SPILL	QUICK_SORT	474964000
+SPILL	SORT_COUNT	315645
+SPILL	COMBINE	0
+SPILL	WRITE	3549322000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	32195844
+SPILL	COMPRESS_BYTE_COUNT	4671409
+MERGE	TOTAL_MERGE	1674000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	12426880000
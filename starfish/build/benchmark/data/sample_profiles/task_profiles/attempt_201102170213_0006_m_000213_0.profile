@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00013	0
+MAP	STARTUP_MEM	215249240
+MAP	SETUP	467000
+MAP	SETUP_MEM	215249240
+MAP	CLEANUP	177000
+MAP	CLEANUP_MEM	247801168
+MAP	TOTAL_RUN	7855987000
+MAP	READ	1240722000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	3156450
+MAP	VALUE_BYTE_COUNT	27776760
+MAP	MAP	5223277000
+MAP	WRITE	2039191000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	409974000
+MAP	SERIALIZE_OUTPUT	588503000
+MAP	MAP_MEM	247801168
+SPILL	SORT_AND_SPILL	6200103000
+SPILL	QUICK_SORT	456892000
+SPILL	SORT_COUNT	315645
+SPILL	COMBINE	0
+SPILL	WRITE	5743211000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	32195844
+SPILL	COMPRESS_BYTE_COUNT	4672631
+MERGE	TOTAL_MERGE	1602000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	14632231000
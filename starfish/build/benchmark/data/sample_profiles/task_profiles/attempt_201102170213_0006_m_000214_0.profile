@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00014	0
+MAP	STARTUP_MEM	215847520
+MAP	SETUP	489000
+MAP	SETUP_MEM	215847520
+MAP	CLEANUP	100000
+MAP	CLEANUP_MEM	250243688
+MAP	TOTAL_RUN	10318572000
+MAP	READ	2209357000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	3156450
+MAP	VALUE_BYTE_COUNT	27776760
+MAP	MAP	6459262000
+MAP	WRITE	2877887000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	948510000
+MAP	SERIALIZE_OUTPUT	742963000
+MAP	MAP_MEM	250243688
+SPILL	SORT_AND_SPILL	4892435000
+SPILL	QUICK_SORT	443382000
+SPILL	SORT_COUNT	315645
+SPILL	COMBINE	0
+SPILL	WRITE	4449053000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	32195844
+SPILL	COMPRESS_BYTE_COUNT	4672696
+MERGE	TOTAL_MERGE	2245000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	15977786000
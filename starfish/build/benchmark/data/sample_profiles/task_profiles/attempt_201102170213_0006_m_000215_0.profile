@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00015	0
+MAP	STARTUP_MEM	215278664
+MAP	SETUP	515000
+MAP	SETUP_MEM	215278664
+MAP	CLEANUP	95000
+MAP	CLEANUP_MEM	248510952
+MAP	TOTAL_RUN	8054739000
+MAP	READ	1281772000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	3156450
+MAP	VALUE_BYTE_COUNT	27776760
+MAP	MAP	5355878000
+MAP	WRITE	1956512000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	456117000
+MAP	SERIALIZE_OUTPUT	594904000
+MAP	MAP_MEM	248510952
+SPILL	SORT_AND_SPILL	5549041000
+SPILL	QUICK_SORT	543733000
+SPILL	SORT_COUNT	315645
+SPILL	COMBINE	0
+SPILL	WRITE	5005308000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	32195844
+SPILL	COMPRESS_BYTE_COUNT	4671202
+MERGE	TOTAL_MERGE	1682000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	15143361000
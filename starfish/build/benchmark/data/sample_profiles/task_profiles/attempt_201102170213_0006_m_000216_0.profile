@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00016	0
+MAP	STARTUP_MEM	215839064
+MAP	SETUP	509000
+MAP	SETUP_MEM	215839064
+MAP	CLEANUP	101000
+MAP	CLEANUP_MEM	247167640
+MAP	TOTAL_RUN	6269670000
+MAP	READ	954842000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	3156450
+MAP	VALUE_BYTE_COUNT	27776760
+MAP	MAP	3930438000
+MAP	WRITE	1404771000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	299482000
+MAP	SERIALIZE_OUTPUT	470166000
+MAP	MAP_MEM	247167640
+SPILL	SORT_AND_SPILL	6989581000
+SPILL	QUICK_SORT	492146000
+SPILL	SORT_COUNT	315645
+SPILL	COMBINE	0
+SPILL	WRITE	6497435000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	32195844
+SPILL	COMPRESS_BYTE_COUNT	4672167
+MERGE	TOTAL_MERGE	1648000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	14809022000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00017	0
+MAP	STARTUP_MEM	215801032
+MAP	SETUP	496000
+MAP	SETUP_MEM	215801032
+MAP	CLEANUP	102000
+MAP	CLEANUP_MEM	247636880
+MAP	TOTAL_RUN	6422433000
+MAP	READ	1101064000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	3156450
+MAP	VALUE_BYTE_COUNT	27776760
+MAP	MAP	4152107000
+MAP	WRITE	1563041000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	281687000
+MAP	SERIALIZE_OUTPUT	499905000
+MAP	MAP_MEM	247636880
+SPILL	SORT_AND_SPILL	4322084000
+SPILL	QUICK_SORT	520529000
+SPILL	SORT_COUNT	315645
+SPILL	COMBINE	0
+SPILL	WRITE	3801555000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	32195844
+SPILL	COMPRESS_BYTE_COUNT	4672134
+MERGE	TOTAL_MERGE	1670000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	11282509000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00018	0
+MAP	STARTUP_MEM	214965976
+MAP	SETUP	460000
+MAP	SETUP_MEM	214965976
+MAP	CLEANUP	98000
+MAP	CLEANUP_MEM	247141832
+MAP	TOTAL_RUN	8029218000
+MAP	READ	1501442000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	3156450
+MAP	VALUE_BYTE_COUNT	27776760
+MAP	MAP	5077277000
+MAP	WRITE	1941914000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	371720000
+MAP	SERIALIZE_OUTPUT	663869000
+MAP	MAP_MEM	247703992
+SPILL	SORT_AND_SPILL	4161772000
+SPILL	QUICK_SORT	456662000
+SPILL	SORT_COUNT	315645
+SPILL	COMBINE	0
+SPILL	WRITE	3705110000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	32195844
+SPILL	COMPRESS_BYTE_COUNT	4671430
+MERGE	TOTAL_MERGE	1702000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	12780332000
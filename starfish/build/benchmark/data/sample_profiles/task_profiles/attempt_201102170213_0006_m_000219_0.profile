@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00019	0
+MAP	STARTUP_MEM	215934232
+MAP	SETUP	471000
+MAP	SETUP_MEM	215934232
+MAP	CLEANUP	98000
+MAP	CLEANUP_MEM	247262120
+MAP	TOTAL_RUN	6529336000
+MAP	READ	1039683000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	3156450
+MAP	VALUE_BYTE_COUNT	27776760
+MAP	MAP	4119814000
+MAP	WRITE	1698295000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	274731000
+MAP	SERIALIZE_OUTPUT	562316000
+MAP	MAP_MEM	247824280
+SPILL	SORT_AND_SPILL	4607945000
+SPILL	QUICK_SORT	883348000
+SPILL	SORT_COUNT	315645
+SPILL	COMBINE	0
+SPILL	WRITE	3724597000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	32195844
+SPILL	COMPRESS_BYTE_COUNT	4671818
+MERGE	TOTAL_MERGE	1638000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	11775929000
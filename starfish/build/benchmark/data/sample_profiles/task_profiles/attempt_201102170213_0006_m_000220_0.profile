@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00020	0
+MAP	STARTUP_MEM	214928848
+MAP	SETUP	553000
+MAP	SETUP_MEM	214928848
+MAP	CLEANUP	132000
+MAP	CLEANUP_MEM	247175880
+MAP	TOTAL_RUN	7643722000
+MAP	READ	1184034000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	3156450
+MAP	VALUE_BYTE_COUNT	27776760
+MAP	MAP	5102287000
+MAP	WRITE	1886071000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	300703000
+MAP	SERIALIZE_OUTPUT	604014000
+MAP	MAP_MEM	247738040
+SPILL	SORT_AND_SPILL	15743939000
+SPILL	QUICK_SORT	825813000
+SPILL	SORT_COUNT	315645
+SPILL	COMBINE	0
+SPILL	WRITE	14918126000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	32195844
+SPILL	COMPRESS_BYTE_COUNT	4672019
+MERGE	TOTAL_MERGE	1940000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	24555760000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00021	0
+MAP	STARTUP_MEM	214552176
+MAP	SETUP	491000
+MAP	SETUP_MEM	214552176
+MAP	CLEANUP	97000
+MAP	CLEANUP_MEM	247659472
+MAP	TOTAL_RUN	8983716000
+MAP	READ	2271017000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	3156450
+MAP	VALUE_BYTE_COUNT	27776760
+MAP	MAP	4840185000
+MAP	WRITE	2080517000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	351346000
+MAP	SERIALIZE_OUTPUT	649699000
+MAP	MAP_MEM	247659472
+SPILL	SORT_AND_SPILL	6617644000
+SPILL	QUICK_SORT	463558000
+SPILL	SORT_COUNT	315645
+SPILL	COMBINE	0
+SPILL	WRITE	6154086000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	32195844
+SPILL	COMPRESS_BYTE_COUNT	4671779
+MERGE	TOTAL_MERGE	1673000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	23970733000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00022	0
+MAP	STARTUP_MEM	215148376
+MAP	SETUP	522000
+MAP	SETUP_MEM	215148376
+MAP	CLEANUP	138000
+MAP	CLEANUP_MEM	247287616
+MAP	TOTAL_RUN	6981224000
+MAP	READ	1199974000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	3156450
+MAP	VALUE_BYTE_COUNT	27776760
+MAP	MAP	4218049000
+MAP	WRITE	1586654000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	297581000
+MAP	SERIALIZE_OUTPUT	540474000
+MAP	MAP_MEM	247849776
+SPILL	SORT_AND_SPILL	8998155000
+SPILL	QUICK_SORT	2149053000
+SPILL	SORT_COUNT	315645
+SPILL	COMBINE	0
+SPILL	WRITE	6849102000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	32195844
+SPILL	COMPRESS_BYTE_COUNT	4670822
+MERGE	TOTAL_MERGE	1664000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	16636268000
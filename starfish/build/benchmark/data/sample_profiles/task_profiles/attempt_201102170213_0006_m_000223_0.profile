@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00023	0
+MAP	STARTUP_MEM	216173152
+MAP	SETUP	517000
+MAP	SETUP_MEM	216173152
+MAP	CLEANUP	122000
+MAP	CLEANUP_MEM	249894680
+MAP	TOTAL_RUN	9602698000
+MAP	READ	1740138000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	3156450
+MAP	VALUE_BYTE_COUNT	27776760
+MAP	MAP	5079056000
+MAP	WRITE	1734788000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	337412000
+MAP	SERIALIZE_OUTPUT	586878000
+MAP	MAP_MEM	250456840
+SPILL	SORT_AND_SPILL	8032187000
+SPILL	QUICK_SORT	515294000
+SPILL	SORT_COUNT	315645
+SPILL	COMBINE	0
+SPILL	WRITE	7516893000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	32195844
+SPILL	COMPRESS_BYTE_COUNT	4671988
+MERGE	TOTAL_MERGE	1814000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	18179839000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00024	0
+MAP	STARTUP_MEM	215054256
+MAP	SETUP	426000
+MAP	SETUP_MEM	215054256
+MAP	CLEANUP	92000
+MAP	CLEANUP_MEM	247682600
+MAP	TOTAL_RUN	6816505000
+MAP	READ	1274309000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	3156450
+MAP	VALUE_BYTE_COUNT	27776760
+MAP	MAP	4329793000
+MAP	WRITE	1794642000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	336027000
+MAP	SERIALIZE_OUTPUT	700475000
+MAP	MAP_MEM	247682600
+SPILL	SORT_AND_SPILL	3984881000
+SPILL	QUICK_SORT	479418000
+SPILL	SORT_COUNT	315645
+SPILL	COMBINE	0
+SPILL	WRITE	3505463000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	32195844
+SPILL	COMPRESS_BYTE_COUNT	4672353
+MERGE	TOTAL_MERGE	1595000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	11404184000
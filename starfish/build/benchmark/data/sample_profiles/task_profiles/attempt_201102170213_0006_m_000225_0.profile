@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00025	0
+MAP	STARTUP_MEM	216077304
+MAP	SETUP	664000
+MAP	SETUP_MEM	216077304
+MAP	CLEANUP	99000
+MAP	CLEANUP_MEM	247230960
+MAP	TOTAL_RUN	7652538000
+MAP	READ	1566175000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	3156450
+MAP	VALUE_BYTE_COUNT	27776760
+MAP	MAP	4683165000
+MAP	WRITE	1942053000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	341863000
+MAP	SERIALIZE_OUTPUT	679225000
+MAP	MAP_MEM	247793120
+SPILL	SORT_AND_SPILL	6088448000
+SPILL	QUICK_SORT	520776000
+SPILL	SORT_COUNT	315645
+SPILL	COMBINE	0
+SPILL	WRITE	5567672000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	32195844
+SPILL	COMPRESS_BYTE_COUNT	4671743
+MERGE	TOTAL_MERGE	1656000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	14982911000
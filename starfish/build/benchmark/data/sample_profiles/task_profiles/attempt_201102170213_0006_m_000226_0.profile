@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00026	0
+MAP	STARTUP_MEM	215061792
+MAP	SETUP	476000
+MAP	SETUP_MEM	215061792
+MAP	CLEANUP	184000
+MAP	CLEANUP_MEM	247110736
+MAP	TOTAL_RUN	7308868000
+MAP	READ	1238161000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	3156450
+MAP	VALUE_BYTE_COUNT	27776760
+MAP	MAP	4573450000
+MAP	WRITE	1947917000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	348166000
+MAP	SERIALIZE_OUTPUT	562285000
+MAP	MAP_MEM	247672896
+SPILL	SORT_AND_SPILL	8131964000
+SPILL	QUICK_SORT	451868000
+SPILL	SORT_COUNT	315645
+SPILL	COMBINE	0
+SPILL	WRITE	7680096000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	32195844
+SPILL	COMPRESS_BYTE_COUNT	4671850
+MERGE	TOTAL_MERGE	1629000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	16220668000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00027	0
+MAP	STARTUP_MEM	215067232
+MAP	SETUP	350815000
+MAP	SETUP_MEM	215922872
+MAP	CLEANUP	101000
+MAP	CLEANUP_MEM	247720848
+MAP	TOTAL_RUN	7122033000
+MAP	READ	1192377000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	3156450
+MAP	VALUE_BYTE_COUNT	27776760
+MAP	MAP	4258540000
+MAP	WRITE	1510117000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	308787000
+MAP	SERIALIZE_OUTPUT	490040000
+MAP	MAP_MEM	247720848
+SPILL	SORT_AND_SPILL	7382657000
+SPILL	QUICK_SORT	536069000
+SPILL	SORT_COUNT	315645
+SPILL	COMBINE	0
+SPILL	WRITE	6846588000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	32195844
+SPILL	COMPRESS_BYTE_COUNT	4672200
+MERGE	TOTAL_MERGE	1652000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	15558825000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00028	0
+MAP	STARTUP_MEM	216106616
+MAP	SETUP	463000
+MAP	SETUP_MEM	216106616
+MAP	CLEANUP	96000
+MAP	CLEANUP_MEM	250913816
+MAP	TOTAL_RUN	8449402000
+MAP	READ	1068931000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	3156450
+MAP	VALUE_BYTE_COUNT	27776760
+MAP	MAP	3779695000
+MAP	WRITE	1466131000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	304686000
+MAP	SERIALIZE_OUTPUT	503361000
+MAP	MAP_MEM	250913816
+SPILL	SORT_AND_SPILL	9821137000
+SPILL	QUICK_SORT	473638000
+SPILL	SORT_COUNT	315645
+SPILL	COMBINE	0
+SPILL	WRITE	9347499000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	32195844
+SPILL	COMPRESS_BYTE_COUNT	4671676
+MERGE	TOTAL_MERGE	1752000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	26458723000
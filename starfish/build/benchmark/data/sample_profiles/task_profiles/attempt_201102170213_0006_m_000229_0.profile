@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00029	0
+MAP	STARTUP_MEM	214970888
+MAP	SETUP	453000
+MAP	SETUP_MEM	214970888
+MAP	CLEANUP	93000
+MAP	CLEANUP_MEM	246908384
+MAP	TOTAL_RUN	6346664000
+MAP	READ	1096566000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	3156450
+MAP	VALUE_BYTE_COUNT	27776760
+MAP	MAP	3766395000
+MAP	WRITE	1520839000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	371255000
+MAP	SERIALIZE_OUTPUT	477749000
+MAP	MAP_MEM	246908384
+SPILL	SORT_AND_SPILL	9003360000
+SPILL	QUICK_SORT	463052000
+SPILL	SORT_COUNT	315645
+SPILL	COMBINE	0
+SPILL	WRITE	8540308000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	32195844
+SPILL	COMPRESS_BYTE_COUNT	4670915
+MERGE	TOTAL_MERGE	1865000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	16678355000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00030	0
+MAP	STARTUP_MEM	215834848
+MAP	SETUP	559000
+MAP	SETUP_MEM	215834848
+MAP	CLEANUP	182000
+MAP	CLEANUP_MEM	248710968
+MAP	TOTAL_RUN	9051940000
+MAP	READ	1980797000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	3156450
+MAP	VALUE_BYTE_COUNT	27776760
+MAP	MAP	5465847000
+MAP	WRITE	2290551000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	371004000
+MAP	SERIALIZE_OUTPUT	633011000
+MAP	MAP_MEM	248710968
+SPILL	SORT_AND_SPILL	9511490000
+SPILL	QUICK_SORT	2209403000
+SPILL	SORT_COUNT	315645
+SPILL	COMBINE	0
+SPILL	WRITE	7302087000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	32195844
+SPILL	COMPRESS_BYTE_COUNT	4672032
+MERGE	TOTAL_MERGE	1617000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	19455460000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00031	0
+MAP	STARTUP_MEM	216923352
+MAP	SETUP	473000
+MAP	SETUP_MEM	216923352
+MAP	CLEANUP	91000
+MAP	CLEANUP_MEM	251481888
+MAP	TOTAL_RUN	10358750000
+MAP	READ	2918679000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	3156450
+MAP	VALUE_BYTE_COUNT	27776760
+MAP	MAP	5408953000
+MAP	WRITE	2299283000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1150537000
+MAP	SERIALIZE_OUTPUT	477959000
+MAP	MAP_MEM	252337528
+SPILL	SORT_AND_SPILL	6481433000
+SPILL	QUICK_SORT	497818000
+SPILL	SORT_COUNT	315645
+SPILL	COMBINE	0
+SPILL	WRITE	5983615000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	32195844
+SPILL	COMPRESS_BYTE_COUNT	4672224
+MERGE	TOTAL_MERGE	1752000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	19186073000
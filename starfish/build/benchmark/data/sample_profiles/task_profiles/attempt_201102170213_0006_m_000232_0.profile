@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00032	0
+MAP	STARTUP_MEM	215170936
+MAP	SETUP	531000
+MAP	SETUP_MEM	215170936
+MAP	CLEANUP	96000
+MAP	CLEANUP_MEM	250700592
+MAP	TOTAL_RUN	14508175000
+MAP	READ	4431829000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	3156450
+MAP	VALUE_BYTE_COUNT	27776760
+MAP	MAP	8407571000
+MAP	WRITE	3732693000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	399875000
+MAP	SERIALIZE_OUTPUT	822899000
+MAP	MAP_MEM	251262752
+SPILL	SORT_AND_SPILL	4119408000
+SPILL	QUICK_SORT	448389000
+SPILL	SORT_COUNT	315645
+SPILL	COMBINE	0
+SPILL	WRITE	3671019000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	32195844
+SPILL	COMPRESS_BYTE_COUNT	4670377
+MERGE	TOTAL_MERGE	3372000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	19317878000
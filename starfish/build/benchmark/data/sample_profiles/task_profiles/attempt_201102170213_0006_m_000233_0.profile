@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00033	0
+MAP	STARTUP_MEM	215776656
+MAP	SETUP	550000
+MAP	SETUP_MEM	215776656
+MAP	CLEANUP	102000
+MAP	CLEANUP_MEM	250207920
+MAP	TOTAL_RUN	9982445000
+MAP	READ	2518490000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	3156450
+MAP	VALUE_BYTE_COUNT	27776760
+MAP	MAP	5589775000
+MAP	WRITE	2396642000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	525744000
+MAP	SERIALIZE_OUTPUT	649865000
+MAP	MAP_MEM	250207920
+SPILL	SORT_AND_SPILL	6206906000
+SPILL	QUICK_SORT	511339000
+SPILL	SORT_COUNT	315645
+SPILL	COMBINE	0
+SPILL	WRITE	5695567000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	32195844
+SPILL	COMPRESS_BYTE_COUNT	4672329
+MERGE	TOTAL_MERGE	1852000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	19227475000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00034	0
+MAP	STARTUP_MEM	216079816
+MAP	SETUP	531000
+MAP	SETUP_MEM	216079816
+MAP	CLEANUP	99000
+MAP	CLEANUP_MEM	247257240
+MAP	TOTAL_RUN	7947636000
+MAP	READ	1361451000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	3156450
+MAP	VALUE_BYTE_COUNT	27776760
+MAP	MAP	5102745000
+MAP	WRITE	2068293000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	369794000
+MAP	SERIALIZE_OUTPUT	690461000
+MAP	MAP_MEM	247257240
+SPILL	SORT_AND_SPILL	17237892000
+SPILL	QUICK_SORT	619006000
+SPILL	SORT_COUNT	315645
+SPILL	COMBINE	0
+SPILL	WRITE	16618886000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	32195844
+SPILL	COMPRESS_BYTE_COUNT	4671633
+MERGE	TOTAL_MERGE	1635000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	26565279000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00035	0
+MAP	STARTUP_MEM	215216032
+MAP	SETUP	474000
+MAP	SETUP_MEM	215216032
+MAP	CLEANUP	99000
+MAP	CLEANUP_MEM	247825784
+MAP	TOTAL_RUN	7249878000
+MAP	READ	1392546000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	3156450
+MAP	VALUE_BYTE_COUNT	27776760
+MAP	MAP	4647326000
+MAP	WRITE	2253890000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	434672000
+MAP	SERIALIZE_OUTPUT	560941000
+MAP	MAP_MEM	247825784
+SPILL	SORT_AND_SPILL	4250388000
+SPILL	QUICK_SORT	478348000
+SPILL	SORT_COUNT	315645
+SPILL	COMBINE	0
+SPILL	WRITE	3772040000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	32195844
+SPILL	COMPRESS_BYTE_COUNT	4671055
+MERGE	TOTAL_MERGE	1702000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	12326142000
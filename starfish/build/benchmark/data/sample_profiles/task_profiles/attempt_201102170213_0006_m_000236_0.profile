@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00036	0
+MAP	STARTUP_MEM	216772440
+MAP	SETUP	444000
+MAP	SETUP_MEM	216772440
+MAP	CLEANUP	88000
+MAP	CLEANUP_MEM	250908240
+MAP	TOTAL_RUN	8600832000
+MAP	READ	3194717000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	3156450
+MAP	VALUE_BYTE_COUNT	27776760
+MAP	MAP	3867119000
+MAP	WRITE	1491976000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	306376000
+MAP	SERIALIZE_OUTPUT	487963000
+MAP	MAP_MEM	250908240
+SPILL	SORT_AND_SPILL	4149031000
+SPILL	QUICK_SORT	441260000
+SPILL	SORT_COUNT	315645
+SPILL	COMBINE	0
+SPILL	WRITE	3707771000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	32195844
+SPILL	COMPRESS_BYTE_COUNT	4671968
+MERGE	TOTAL_MERGE	1575000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	17353256000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00037	0
+MAP	STARTUP_MEM	215227816
+MAP	SETUP	569000
+MAP	SETUP_MEM	215227816
+MAP	CLEANUP	128000
+MAP	CLEANUP_MEM	248351488
+MAP	TOTAL_RUN	7125080000
+MAP	READ	1155425000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	3156450
+MAP	VALUE_BYTE_COUNT	27776760
+MAP	MAP	4804851000
+MAP	WRITE	1485444000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	301729000
+MAP	SERIALIZE_OUTPUT	532490000
+MAP	MAP_MEM	248351488
+SPILL	SORT_AND_SPILL	7069372000
+SPILL	QUICK_SORT	748471000
+SPILL	SORT_COUNT	315645
+SPILL	COMBINE	0
+SPILL	WRITE	6320901000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	32195844
+SPILL	COMPRESS_BYTE_COUNT	4672130
+MERGE	TOTAL_MERGE	1902000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	17617179000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00038	0
+MAP	STARTUP_MEM	216974112
+MAP	SETUP	568000
+MAP	SETUP_MEM	216974112
+MAP	CLEANUP	96000
+MAP	CLEANUP_MEM	248475448
+MAP	TOTAL_RUN	7931510000
+MAP	READ	1178771000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	3156450
+MAP	VALUE_BYTE_COUNT	27776760
+MAP	MAP	5444787000
+MAP	WRITE	3197058000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	362187000
+MAP	SERIALIZE_OUTPUT	561352000
+MAP	MAP_MEM	248475448
+SPILL	SORT_AND_SPILL	8859214000
+SPILL	QUICK_SORT	1607021000
+SPILL	SORT_COUNT	315645
+SPILL	COMBINE	0
+SPILL	WRITE	7252193000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	32195844
+SPILL	COMPRESS_BYTE_COUNT	4671292
+MERGE	TOTAL_MERGE	1649000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	22720583000
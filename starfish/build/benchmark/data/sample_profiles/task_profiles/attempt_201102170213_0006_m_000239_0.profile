@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00039	0
+MAP	STARTUP_MEM	216137640
+MAP	SETUP	476000
+MAP	SETUP_MEM	216137640
+MAP	CLEANUP	98000
+MAP	CLEANUP_MEM	251049352
+MAP	TOTAL_RUN	10882344000
+MAP	READ	1937449000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	3156450
+MAP	VALUE_BYTE_COUNT	27776760
+MAP	MAP	7307047000
+MAP	WRITE	2314276000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	480874000
+MAP	SERIALIZE_OUTPUT	1088181000
+MAP	MAP_MEM	251049352
+SPILL	SORT_AND_SPILL	4772908000
+SPILL	QUICK_SORT	541213000
+SPILL	SORT_COUNT	315645
+SPILL	COMBINE	0
+SPILL	WRITE	4231695000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	32195844
+SPILL	COMPRESS_BYTE_COUNT	4671480
+MERGE	TOTAL_MERGE	1644000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	16172227000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00040	0
+MAP	STARTUP_MEM	215240968
+MAP	SETUP	483000
+MAP	SETUP_MEM	215240968
+MAP	CLEANUP	103000
+MAP	CLEANUP_MEM	250081976
+MAP	TOTAL_RUN	10071101834
+MAP	READ	3376968000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	3156450
+MAP	VALUE_BYTE_COUNT	27776760
+MAP	MAP	5213267834
+MAP	WRITE	1828875834
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	378593000
+MAP	SERIALIZE_OUTPUT	546465834
+MAP	MAP_MEM	250081976
+SPILL	SORT_AND_SPILL	9778001000
+SPILL	QUICK_SORT	591097000
+SPILL	SORT_COUNT	315645
+SPILL	COMBINE	0
+SPILL	WRITE	9186904000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	32195844
+SPILL	COMPRESS_BYTE_COUNT	4671727
+MERGE	TOTAL_MERGE	1618000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	22782905834
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00041	0
+MAP	STARTUP_MEM	215222840
+MAP	SETUP	458000
+MAP	SETUP_MEM	215222840
+MAP	CLEANUP	97000
+MAP	CLEANUP_MEM	249918072
+MAP	TOTAL_RUN	9739396000
+MAP	READ	2457834000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	3156450
+MAP	VALUE_BYTE_COUNT	27776760
+MAP	MAP	5972222000
+MAP	WRITE	2371993000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	363379000
+MAP	SERIALIZE_OUTPUT	572409000
+MAP	MAP_MEM	249918072
+SPILL	SORT_AND_SPILL	7868267000
+SPILL	QUICK_SORT	434278000
+SPILL	SORT_COUNT	315645
+SPILL	COMBINE	0
+SPILL	WRITE	7433989000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	32195844
+SPILL	COMPRESS_BYTE_COUNT	4672202
+MERGE	TOTAL_MERGE	1797000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	18941410000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00042	0
+MAP	STARTUP_MEM	215189456
+MAP	SETUP	473000
+MAP	SETUP_MEM	215189456
+MAP	CLEANUP	185000
+MAP	CLEANUP_MEM	250656144
+MAP	TOTAL_RUN	8548022000
+MAP	READ	2148876000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	3156450
+MAP	VALUE_BYTE_COUNT	27776760
+MAP	MAP	4951654000
+MAP	WRITE	1935674000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	438819000
+MAP	SERIALIZE_OUTPUT	566079000
+MAP	MAP_MEM	250656144
+SPILL	SORT_AND_SPILL	6819453000
+SPILL	QUICK_SORT	528717000
+SPILL	SORT_COUNT	315645
+SPILL	COMBINE	0
+SPILL	WRITE	6290736000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	32195844
+SPILL	COMPRESS_BYTE_COUNT	4671474
+MERGE	TOTAL_MERGE	1707000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	18993140000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00043	0
+MAP	STARTUP_MEM	215016216
+MAP	SETUP	474000
+MAP	SETUP_MEM	215016216
+MAP	CLEANUP	169000
+MAP	CLEANUP_MEM	247519488
+MAP	TOTAL_RUN	8425084000
+MAP	READ	1125890000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	3156450
+MAP	VALUE_BYTE_COUNT	27776760
+MAP	MAP	6185545000
+MAP	WRITE	4150113000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	363076000
+MAP	SERIALIZE_OUTPUT	1464904000
+MAP	MAP_MEM	247519488
+SPILL	SORT_AND_SPILL	10293974000
+SPILL	QUICK_SORT	1841397000
+SPILL	SORT_COUNT	315645
+SPILL	COMBINE	0
+SPILL	WRITE	8452577000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	32195844
+SPILL	COMPRESS_BYTE_COUNT	4671768
+MERGE	TOTAL_MERGE	1597000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	19583074000
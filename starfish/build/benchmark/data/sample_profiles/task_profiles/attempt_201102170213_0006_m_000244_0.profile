@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00044	0
+MAP	STARTUP_MEM	215001312
+MAP	SETUP	466000
+MAP	SETUP_MEM	215001312
+MAP	CLEANUP	92000
+MAP	CLEANUP_MEM	246633640
+MAP	TOTAL_RUN	6250625000
+MAP	READ	1036851000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	3156450
+MAP	VALUE_BYTE_COUNT	27776760
+MAP	MAP	4085937000
+MAP	WRITE	1648234000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	406826000
+MAP	SERIALIZE_OUTPUT	558459000
+MAP	MAP_MEM	246633640
+SPILL	SORT_AND_SPILL	11865442000
+SPILL	QUICK_SORT	596623000
+SPILL	SORT_COUNT	315645
+SPILL	COMBINE	0
+SPILL	WRITE	11268819000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	32195844
+SPILL	COMPRESS_BYTE_COUNT	4672432
+MERGE	TOTAL_MERGE	1601000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	21426325000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00045	0
+MAP	STARTUP_MEM	214939200
+MAP	SETUP	473000
+MAP	SETUP_MEM	214939200
+MAP	CLEANUP	92000
+MAP	CLEANUP_MEM	247782336
+MAP	TOTAL_RUN	6143529000
+MAP	READ	1298189000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	3156450
+MAP	VALUE_BYTE_COUNT	27776760
+MAP	MAP	3818190000
+MAP	WRITE	1430502000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	274025000
+MAP	SERIALIZE_OUTPUT	491780000
+MAP	MAP_MEM	247782336
+SPILL	SORT_AND_SPILL	4255873000
+SPILL	QUICK_SORT	508674000
+SPILL	SORT_COUNT	315645
+SPILL	COMBINE	0
+SPILL	WRITE	3747199000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	32195844
+SPILL	COMPRESS_BYTE_COUNT	4671585
+MERGE	TOTAL_MERGE	1554000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	11116099000
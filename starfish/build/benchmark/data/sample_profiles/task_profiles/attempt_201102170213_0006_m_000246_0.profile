@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00046	0
+MAP	STARTUP_MEM	216071024
+MAP	SETUP	518000
+MAP	SETUP_MEM	216071024
+MAP	CLEANUP	98000
+MAP	CLEANUP_MEM	247256192
+MAP	TOTAL_RUN	7512913000
+MAP	READ	1282582000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	3156450
+MAP	VALUE_BYTE_COUNT	27776760
+MAP	MAP	4577284000
+MAP	WRITE	1800852000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	352885000
+MAP	SERIALIZE_OUTPUT	537541000
+MAP	MAP_MEM	247818352
+SPILL	SORT_AND_SPILL	5650581143
+SPILL	QUICK_SORT	465714000
+SPILL	SORT_COUNT	315645
+SPILL	COMBINE	0
+SPILL	WRITE	5184867143
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	32195844
+SPILL	COMPRESS_BYTE_COUNT	4672624
+MERGE	TOTAL_MERGE	1644000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	13723598143
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00047	0
+MAP	STARTUP_MEM	215055608
+MAP	SETUP	491000
+MAP	SETUP_MEM	215055608
+MAP	CLEANUP	98000
+MAP	CLEANUP_MEM	250608024
+MAP	TOTAL_RUN	12880788000
+MAP	READ	2478993000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	3156450
+MAP	VALUE_BYTE_COUNT	27776760
+MAP	MAP	5726122000
+MAP	WRITE	2603561000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	351423000
+MAP	SERIALIZE_OUTPUT	646898000
+MAP	MAP_MEM	251170184
+SPILL	SORT_AND_SPILL	4595716000
+SPILL	QUICK_SORT	500763000
+SPILL	SORT_COUNT	315645
+SPILL	COMBINE	0
+SPILL	WRITE	4094953000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	32195844
+SPILL	COMPRESS_BYTE_COUNT	4672977
+MERGE	TOTAL_MERGE	1566000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	18146722000
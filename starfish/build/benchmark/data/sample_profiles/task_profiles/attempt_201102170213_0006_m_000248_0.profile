@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00048	0
+MAP	STARTUP_MEM	214947728
+MAP	SETUP	479000
+MAP	SETUP_MEM	214947728
+MAP	CLEANUP	99000
+MAP	CLEANUP_MEM	247815880
+MAP	TOTAL_RUN	6959745000
+MAP	READ	1133817000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	3156450
+MAP	VALUE_BYTE_COUNT	27776760
+MAP	MAP	4796628000
+MAP	WRITE	1802729000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	309592000
+MAP	SERIALIZE_OUTPUT	642213000
+MAP	MAP_MEM	247815880
+SPILL	SORT_AND_SPILL	6607694000
+SPILL	QUICK_SORT	651849000
+SPILL	SORT_COUNT	315645
+SPILL	COMBINE	0
+SPILL	WRITE	5955845000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	32195844
+SPILL	COMPRESS_BYTE_COUNT	4671874
+MERGE	TOTAL_MERGE	1733000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	14256654000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00049	0
+MAP	STARTUP_MEM	215781400
+MAP	SETUP	512000
+MAP	SETUP_MEM	215781400
+MAP	CLEANUP	107000
+MAP	CLEANUP_MEM	252471336
+MAP	TOTAL_RUN	13567191000
+MAP	READ	2922588000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	3156450
+MAP	VALUE_BYTE_COUNT	27776760
+MAP	MAP	9101613000
+MAP	WRITE	3152590000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	326902000
+MAP	SERIALIZE_OUTPUT	1482099000
+MAP	MAP_MEM	252471336
+SPILL	SORT_AND_SPILL	8541066000
+SPILL	QUICK_SORT	3547831000
+SPILL	SORT_COUNT	315645
+SPILL	COMBINE	0
+SPILL	WRITE	4993235000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	32195844
+SPILL	COMPRESS_BYTE_COUNT	4670668
+MERGE	TOTAL_MERGE	1788000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	22876157000
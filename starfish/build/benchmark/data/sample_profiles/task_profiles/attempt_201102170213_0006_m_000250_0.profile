@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00050	0
+MAP	STARTUP_MEM	215223184
+MAP	SETUP	465000
+MAP	SETUP_MEM	215223184
+MAP	CLEANUP	109000
+MAP	CLEANUP_MEM	251973840
+MAP	TOTAL_RUN	11633607000
+MAP	READ	2555638000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	3156450
+MAP	VALUE_BYTE_COUNT	27776760
+MAP	MAP	8009162000
+MAP	WRITE	2237788000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	637107000
+MAP	SERIALIZE_OUTPUT	507441000
+MAP	MAP_MEM	251973840
+SPILL	SORT_AND_SPILL	4584430000
+SPILL	QUICK_SORT	451415000
+SPILL	SORT_COUNT	315645
+SPILL	COMBINE	0
+SPILL	WRITE	4133015000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	32195844
+SPILL	COMPRESS_BYTE_COUNT	4671930
+MERGE	TOTAL_MERGE	1646000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	17628901000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00051	0
+MAP	STARTUP_MEM	214464880
+MAP	SETUP	504000
+MAP	SETUP_MEM	214464880
+MAP	CLEANUP	92000
+MAP	CLEANUP_MEM	246954528
+MAP	TOTAL_RUN	6128382000
+MAP	READ	1063834000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	3156450
+MAP	VALUE_BYTE_COUNT	27776760
+MAP	MAP	4055302000
+MAP	WRITE	1536352000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	447809000
+MAP	SERIALIZE_OUTPUT	406972000
+MAP	MAP_MEM	246954528
+SPILL	SORT_AND_SPILL	5834641000
+SPILL	QUICK_SORT	429842000
+SPILL	SORT_COUNT	315645
+SPILL	COMBINE	0
+SPILL	WRITE	5404799000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	32195844
+SPILL	COMPRESS_BYTE_COUNT	4672456
+MERGE	TOTAL_MERGE	1617000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	18103265000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00052	0
+MAP	STARTUP_MEM	214544440
+MAP	SETUP	491000
+MAP	SETUP_MEM	214544440
+MAP	CLEANUP	98000
+MAP	CLEANUP_MEM	247418280
+MAP	TOTAL_RUN	9852208000
+MAP	READ	2887822000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	3156450
+MAP	VALUE_BYTE_COUNT	27776760
+MAP	MAP	5505576000
+MAP	WRITE	2411509000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	365687000
+MAP	SERIALIZE_OUTPUT	957439000
+MAP	MAP_MEM	247418280
+SPILL	SORT_AND_SPILL	6860365000
+SPILL	QUICK_SORT	481467000
+SPILL	SORT_COUNT	315645
+SPILL	COMBINE	0
+SPILL	WRITE	6378898000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	32195844
+SPILL	COMPRESS_BYTE_COUNT	4670517
+MERGE	TOTAL_MERGE	1650000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	22614367000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00053	0
+MAP	STARTUP_MEM	215025784
+MAP	SETUP	485000
+MAP	SETUP_MEM	215025784
+MAP	CLEANUP	99000
+MAP	CLEANUP_MEM	250758096
+MAP	TOTAL_RUN	14925609834
+MAP	READ	4302408000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	3156450
+MAP	VALUE_BYTE_COUNT	27776760
+MAP	MAP	8249891834
+MAP	WRITE	4643393834
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	346227000
+MAP	SERIALIZE_OUTPUT	1463332000
+MAP	MAP_MEM	251320256
+SPILL	SORT_AND_SPILL	4628546000
+SPILL	QUICK_SORT	446676000
+SPILL	SORT_COUNT	315645
+SPILL	COMBINE	0
+SPILL	WRITE	4181870000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	32195844
+SPILL	COMPRESS_BYTE_COUNT	4671626
+MERGE	TOTAL_MERGE	1811000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	20186778834
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00054	0
+MAP	STARTUP_MEM	215008696
+MAP	SETUP	480000
+MAP	SETUP_MEM	215008696
+MAP	CLEANUP	96000
+MAP	CLEANUP_MEM	250616632
+MAP	TOTAL_RUN	9124807000
+MAP	READ	2600183000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	3156450
+MAP	VALUE_BYTE_COUNT	27776760
+MAP	MAP	4927204000
+MAP	WRITE	2147761000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	367122000
+MAP	SERIALIZE_OUTPUT	808421000
+MAP	MAP_MEM	251178792
+SPILL	SORT_AND_SPILL	6053598000
+SPILL	QUICK_SORT	505156000
+SPILL	SORT_COUNT	315645
+SPILL	COMBINE	0
+SPILL	WRITE	5548442000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	32195844
+SPILL	COMPRESS_BYTE_COUNT	4672152
+MERGE	TOTAL_MERGE	1707000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	17568676000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00055	0
+MAP	STARTUP_MEM	215221896
+MAP	SETUP	503000
+MAP	SETUP_MEM	215221896
+MAP	CLEANUP	99000
+MAP	CLEANUP_MEM	248750376
+MAP	TOTAL_RUN	9232015646
+MAP	READ	2092058000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	3156450
+MAP	VALUE_BYTE_COUNT	27776760
+MAP	MAP	5696866000
+MAP	WRITE	2134241000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	360477000
+MAP	SERIALIZE_OUTPUT	632620000
+MAP	MAP_MEM	248750376
+SPILL	SORT_AND_SPILL	13760677000
+SPILL	QUICK_SORT	586238000
+SPILL	SORT_COUNT	315645
+SPILL	COMBINE	0
+SPILL	WRITE	13174439000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	32195844
+SPILL	COMPRESS_BYTE_COUNT	4670426
+MERGE	TOTAL_MERGE	1625000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	24338602646
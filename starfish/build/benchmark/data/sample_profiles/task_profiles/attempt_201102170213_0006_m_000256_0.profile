@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00056	0
+MAP	STARTUP_MEM	215067280
+MAP	SETUP	509000
+MAP	SETUP_MEM	215067280
+MAP	CLEANUP	101000
+MAP	CLEANUP_MEM	247720872
+MAP	TOTAL_RUN	7227021000
+MAP	READ	1376702000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	3156450
+MAP	VALUE_BYTE_COUNT	27776760
+MAP	MAP	4738194000
+MAP	WRITE	1683571000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	370948000
+MAP	SERIALIZE_OUTPUT	541377000
+MAP	MAP_MEM	247720872
+SPILL	SORT_AND_SPILL	14799819000
+SPILL	QUICK_SORT	922822000
+SPILL	SORT_COUNT	315645
+SPILL	COMBINE	0
+SPILL	WRITE	13876997000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	32195844
+SPILL	COMPRESS_BYTE_COUNT	4672230
+MERGE	TOTAL_MERGE	1702000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	27273022000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00057	0
+MAP	STARTUP_MEM	216773064
+MAP	SETUP	481000
+MAP	SETUP_MEM	216773064
+MAP	CLEANUP	97000
+MAP	CLEANUP_MEM	250474096
+MAP	TOTAL_RUN	9657876000
+MAP	READ	3382813000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	3156450
+MAP	VALUE_BYTE_COUNT	27776760
+MAP	MAP	4539692000
+MAP	WRITE	1796540000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	353192000
+MAP	SERIALIZE_OUTPUT	551631000
+MAP	MAP_MEM	250474096
+SPILL	SORT_AND_SPILL	8056039000
+SPILL	QUICK_SORT	451676000
+SPILL	SORT_COUNT	315645
+SPILL	COMBINE	0
+SPILL	WRITE	7604363000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	32195844
+SPILL	COMPRESS_BYTE_COUNT	4671859
+MERGE	TOTAL_MERGE	1693000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	22083163000
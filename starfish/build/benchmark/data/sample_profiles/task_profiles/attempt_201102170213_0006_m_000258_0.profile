@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00058	0
+MAP	STARTUP_MEM	215067304
+MAP	SETUP	457000
+MAP	SETUP_MEM	215067304
+MAP	CLEANUP	93000
+MAP	CLEANUP_MEM	247720504
+MAP	TOTAL_RUN	6090734000
+MAP	READ	1134901000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	3156450
+MAP	VALUE_BYTE_COUNT	27776760
+MAP	MAP	3930538000
+MAP	WRITE	1450748000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	281541000
+MAP	SERIALIZE_OUTPUT	478812000
+MAP	MAP_MEM	247720504
+SPILL	SORT_AND_SPILL	4643408000
+SPILL	QUICK_SORT	524871000
+SPILL	SORT_COUNT	315645
+SPILL	COMBINE	0
+SPILL	WRITE	4118537000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	32195844
+SPILL	COMPRESS_BYTE_COUNT	4671422
+MERGE	TOTAL_MERGE	1855000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	11203829000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00059	0
+MAP	STARTUP_MEM	214993208
+MAP	SETUP	432000
+MAP	SETUP_MEM	214993208
+MAP	CLEANUP	94000
+MAP	CLEANUP_MEM	246868024
+MAP	TOTAL_RUN	6064385000
+MAP	READ	1052588000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	3156450
+MAP	VALUE_BYTE_COUNT	27776760
+MAP	MAP	3956963000
+MAP	WRITE	1507835000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	367542000
+MAP	SERIALIZE_OUTPUT	466362000
+MAP	MAP_MEM	246868024
+SPILL	SORT_AND_SPILL	4509000000
+SPILL	QUICK_SORT	447920000
+SPILL	SORT_COUNT	315645
+SPILL	COMBINE	0
+SPILL	WRITE	4061080000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	32195844
+SPILL	COMPRESS_BYTE_COUNT	4671362
+MERGE	TOTAL_MERGE	1585000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	11124687000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00060	0
+MAP	STARTUP_MEM	215803840
+MAP	SETUP	613000
+MAP	SETUP_MEM	215803840
+MAP	CLEANUP	97000
+MAP	CLEANUP_MEM	251783080
+MAP	TOTAL_RUN	11885085000
+MAP	READ	1068695000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	3156450
+MAP	VALUE_BYTE_COUNT	27776760
+MAP	MAP	9543824000
+MAP	WRITE	5990582000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	367501000
+MAP	SERIALIZE_OUTPUT	4844127000
+MAP	MAP_MEM	251783080
+SPILL	SORT_AND_SPILL	13603008000
+SPILL	QUICK_SORT	3668323000
+SPILL	SORT_COUNT	315645
+SPILL	COMBINE	0
+SPILL	WRITE	9934685000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	32195844
+SPILL	COMPRESS_BYTE_COUNT	4671023
+MERGE	TOTAL_MERGE	2015000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	26274765000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00061	0
+MAP	STARTUP_MEM	217313048
+MAP	SETUP	533000
+MAP	SETUP_MEM	217313048
+MAP	CLEANUP	108000
+MAP	CLEANUP_MEM	250167720
+MAP	TOTAL_RUN	7795242000
+MAP	READ	1379410000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	3156450
+MAP	VALUE_BYTE_COUNT	27776760
+MAP	MAP	4350985000
+MAP	WRITE	1767559000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	308131000
+MAP	SERIALIZE_OUTPUT	501631000
+MAP	MAP_MEM	250729880
+SPILL	SORT_AND_SPILL	14258453000
+SPILL	QUICK_SORT	2384054000
+SPILL	SORT_COUNT	315645
+SPILL	COMBINE	0
+SPILL	WRITE	11874399000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	32195844
+SPILL	COMPRESS_BYTE_COUNT	4671762
+MERGE	TOTAL_MERGE	1951000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	26065425000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00062	0
+MAP	STARTUP_MEM	216029736
+MAP	SETUP	477000
+MAP	SETUP_MEM	216029736
+MAP	CLEANUP	90000
+MAP	CLEANUP_MEM	250944032
+MAP	TOTAL_RUN	10869080000
+MAP	READ	1262523000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	3156450
+MAP	VALUE_BYTE_COUNT	27776760
+MAP	MAP	5055905000
+MAP	WRITE	2241225000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	287689000
+MAP	SERIALIZE_OUTPUT	659251000
+MAP	MAP_MEM	250944032
+SPILL	SORT_AND_SPILL	5727057000
+SPILL	QUICK_SORT	457351000
+SPILL	SORT_COUNT	315645
+SPILL	COMBINE	0
+SPILL	WRITE	5269706000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	32195844
+SPILL	COMPRESS_BYTE_COUNT	4671352
+MERGE	TOTAL_MERGE	1689000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	19425994000
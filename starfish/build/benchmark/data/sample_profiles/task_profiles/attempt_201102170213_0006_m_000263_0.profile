@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00063	0
+MAP	STARTUP_MEM	216015640
+MAP	SETUP	503000
+MAP	SETUP_MEM	216015640
+MAP	CLEANUP	103000
+MAP	CLEANUP_MEM	251264088
+MAP	TOTAL_RUN	10871568000
+MAP	READ	1509637000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	3156450
+MAP	VALUE_BYTE_COUNT	27776760
+MAP	MAP	7571694000
+MAP	WRITE	3310537000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	355173000
+MAP	SERIALIZE_OUTPUT	1187767000
+MAP	MAP_MEM	251264088
+SPILL	SORT_AND_SPILL	6883635000
+SPILL	QUICK_SORT	449690000
+SPILL	SORT_COUNT	315645
+SPILL	COMBINE	0
+SPILL	WRITE	6433945000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	32195844
+SPILL	COMPRESS_BYTE_COUNT	4671435
+MERGE	TOTAL_MERGE	1667000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	19657915000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00064	0
+MAP	STARTUP_MEM	215986136
+MAP	SETUP	479000
+MAP	SETUP_MEM	215986136
+MAP	CLEANUP	91000
+MAP	CLEANUP_MEM	251256728
+MAP	TOTAL_RUN	11279371000
+MAP	READ	2792396000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	3156450
+MAP	VALUE_BYTE_COUNT	27776760
+MAP	MAP	7323627000
+MAP	WRITE	4514569000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	368267000
+MAP	SERIALIZE_OUTPUT	516263000
+MAP	MAP_MEM	251256728
+SPILL	SORT_AND_SPILL	5748211000
+SPILL	QUICK_SORT	533069000
+SPILL	SORT_COUNT	315645
+SPILL	COMBINE	0
+SPILL	WRITE	5215142000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	32195844
+SPILL	COMPRESS_BYTE_COUNT	4672202
+MERGE	TOTAL_MERGE	1589000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	18072989000
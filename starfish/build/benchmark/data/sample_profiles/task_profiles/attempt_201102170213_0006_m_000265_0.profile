@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00065	0
+MAP	STARTUP_MEM	214985496
+MAP	SETUP	596000
+MAP	SETUP_MEM	214985496
+MAP	CLEANUP	101000
+MAP	CLEANUP_MEM	247545488
+MAP	TOTAL_RUN	7530307000
+MAP	READ	1351967000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	3156450
+MAP	VALUE_BYTE_COUNT	27776760
+MAP	MAP	4443105000
+MAP	WRITE	1849419000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	340150000
+MAP	SERIALIZE_OUTPUT	542780000
+MAP	MAP_MEM	247545488
+SPILL	SORT_AND_SPILL	5531679000
+SPILL	QUICK_SORT	545144000
+SPILL	SORT_COUNT	315645
+SPILL	COMBINE	0
+SPILL	WRITE	4986535000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	32195844
+SPILL	COMPRESS_BYTE_COUNT	4671795
+MERGE	TOTAL_MERGE	1637000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	14146706000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00066	0
+MAP	STARTUP_MEM	215869232
+MAP	SETUP	483000
+MAP	SETUP_MEM	215869232
+MAP	CLEANUP	92000
+MAP	CLEANUP_MEM	250013720
+MAP	TOTAL_RUN	9564643000
+MAP	READ	3429896000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	3156450
+MAP	VALUE_BYTE_COUNT	27776760
+MAP	MAP	4675986000
+MAP	WRITE	1902035000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	313922000
+MAP	SERIALIZE_OUTPUT	460348000
+MAP	MAP_MEM	250013720
+SPILL	SORT_AND_SPILL	7176778000
+SPILL	QUICK_SORT	712672000
+SPILL	SORT_COUNT	315645
+SPILL	COMBINE	0
+SPILL	WRITE	6464106000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	32195844
+SPILL	COMPRESS_BYTE_COUNT	4672653
+MERGE	TOTAL_MERGE	1610000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	17727097000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00067	0
+MAP	STARTUP_MEM	215879120
+MAP	SETUP	491000
+MAP	SETUP_MEM	215879120
+MAP	CLEANUP	101000
+MAP	CLEANUP_MEM	247688728
+MAP	TOTAL_RUN	7658775000
+MAP	READ	1625802000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	3156450
+MAP	VALUE_BYTE_COUNT	27776760
+MAP	MAP	4595766000
+MAP	WRITE	2044249000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	384276000
+MAP	SERIALIZE_OUTPUT	716967000
+MAP	MAP_MEM	247688728
+SPILL	SORT_AND_SPILL	4568404000
+SPILL	QUICK_SORT	499489000
+SPILL	SORT_COUNT	315645
+SPILL	COMBINE	0
+SPILL	WRITE	4068915000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	32195844
+SPILL	COMPRESS_BYTE_COUNT	4672686
+MERGE	TOTAL_MERGE	1706000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	13359022000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00068	0
+MAP	STARTUP_MEM	215025112
+MAP	SETUP	500000
+MAP	SETUP_MEM	215025112
+MAP	CLEANUP	110000
+MAP	CLEANUP_MEM	248115960
+MAP	TOTAL_RUN	6854469000
+MAP	READ	1160562000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	3156450
+MAP	VALUE_BYTE_COUNT	27776760
+MAP	MAP	4298361000
+MAP	WRITE	1640313000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	382691000
+MAP	SERIALIZE_OUTPUT	508637000
+MAP	MAP_MEM	248115960
+SPILL	SORT_AND_SPILL	8040872000
+SPILL	QUICK_SORT	513713000
+SPILL	SORT_COUNT	315645
+SPILL	COMBINE	0
+SPILL	WRITE	7527159000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	32195844
+SPILL	COMPRESS_BYTE_COUNT	4671584
+MERGE	TOTAL_MERGE	1639000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	17285085000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00069	0
+MAP	STARTUP_MEM	215837464
+MAP	SETUP	469000
+MAP	SETUP_MEM	215837464
+MAP	CLEANUP	98000
+MAP	CLEANUP_MEM	247151184
+MAP	TOTAL_RUN	6091579000
+MAP	READ	972645000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	3156450
+MAP	VALUE_BYTE_COUNT	27776760
+MAP	MAP	4050594000
+MAP	WRITE	1496067000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	279568000
+MAP	SERIALIZE_OUTPUT	510504000
+MAP	MAP_MEM	247151184
+SPILL	SORT_AND_SPILL	5205270000
+SPILL	QUICK_SORT	561286000
+SPILL	SORT_COUNT	315645
+SPILL	COMBINE	0
+SPILL	WRITE	4643984000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	32195844
+SPILL	COMPRESS_BYTE_COUNT	4671461
+MERGE	TOTAL_MERGE	1609000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	12965389000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00070	0
+MAP	STARTUP_MEM	214644256
+MAP	SETUP	479000
+MAP	SETUP_MEM	214644256
+MAP	CLEANUP	97000
+MAP	CLEANUP_MEM	245970120
+MAP	TOTAL_RUN	6521996000
+MAP	READ	1177491000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	3156450
+MAP	VALUE_BYTE_COUNT	27776760
+MAP	MAP	3951655000
+MAP	WRITE	1536132000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	376666000
+MAP	SERIALIZE_OUTPUT	425200000
+MAP	MAP_MEM	245970120
+SPILL	SORT_AND_SPILL	7543495000
+SPILL	QUICK_SORT	1463014000
+SPILL	SORT_COUNT	315645
+SPILL	COMBINE	0
+SPILL	WRITE	6080481000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	32195844
+SPILL	COMPRESS_BYTE_COUNT	4672194
+MERGE	TOTAL_MERGE	1600000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	15538861000
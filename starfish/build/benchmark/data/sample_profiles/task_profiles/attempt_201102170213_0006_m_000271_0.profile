@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00071	0
+MAP	STARTUP_MEM	215013800
+MAP	SETUP	436000
+MAP	SETUP_MEM	215013800
+MAP	CLEANUP	94000
+MAP	CLEANUP_MEM	247749424
+MAP	TOTAL_RUN	6743964000
+MAP	READ	1014239000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	3156450
+MAP	VALUE_BYTE_COUNT	27776760
+MAP	MAP	3872911000
+MAP	WRITE	1470137000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	315541000
+MAP	SERIALIZE_OUTPUT	486056000
+MAP	MAP_MEM	247749424
+SPILL	SORT_AND_SPILL	4522274000
+SPILL	QUICK_SORT	466093000
+SPILL	SORT_COUNT	315645
+SPILL	COMBINE	0
+SPILL	WRITE	4056181000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	32195844
+SPILL	COMPRESS_BYTE_COUNT	4672973
+MERGE	TOTAL_MERGE	1609000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	11858949000
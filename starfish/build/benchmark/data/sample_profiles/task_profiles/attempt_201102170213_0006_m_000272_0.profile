@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00072	0
+MAP	STARTUP_MEM	216873280
+MAP	SETUP	466000
+MAP	SETUP_MEM	216873280
+MAP	CLEANUP	74000
+MAP	CLEANUP_MEM	249886704
+MAP	TOTAL_RUN	7556722000
+MAP	READ	1967562000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	3156450
+MAP	VALUE_BYTE_COUNT	27776760
+MAP	MAP	4077908000
+MAP	WRITE	1751373000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	324617000
+MAP	SERIALIZE_OUTPUT	770453000
+MAP	MAP_MEM	249886704
+SPILL	SORT_AND_SPILL	4464170000
+SPILL	QUICK_SORT	494287000
+SPILL	SORT_COUNT	315645
+SPILL	COMBINE	0
+SPILL	WRITE	3969883000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	32195844
+SPILL	COMPRESS_BYTE_COUNT	4672255
+MERGE	TOTAL_MERGE	1553000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	17074216000
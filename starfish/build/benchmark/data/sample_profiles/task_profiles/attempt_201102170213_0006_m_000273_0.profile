@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00073	0
+MAP	STARTUP_MEM	215869320
+MAP	SETUP	487000
+MAP	SETUP_MEM	215869320
+MAP	CLEANUP	90000
+MAP	CLEANUP_MEM	249676232
+MAP	TOTAL_RUN	7093401000
+MAP	READ	1769092000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	3156450
+MAP	VALUE_BYTE_COUNT	27776760
+MAP	MAP	4254476000
+MAP	WRITE	1807879000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	258200000
+MAP	SERIALIZE_OUTPUT	511458000
+MAP	MAP_MEM	250238392
+SPILL	SORT_AND_SPILL	5088272000
+SPILL	QUICK_SORT	530952000
+SPILL	SORT_COUNT	315645
+SPILL	COMBINE	0
+SPILL	WRITE	4557320000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	32195844
+SPILL	COMPRESS_BYTE_COUNT	4673387
+MERGE	TOTAL_MERGE	1609000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	15780537000
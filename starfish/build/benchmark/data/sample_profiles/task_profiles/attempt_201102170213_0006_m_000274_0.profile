@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00074	0
+MAP	STARTUP_MEM	215060104
+MAP	SETUP	471000
+MAP	SETUP_MEM	215060104
+MAP	CLEANUP	95000
+MAP	CLEANUP_MEM	247095176
+MAP	TOTAL_RUN	5818526000
+MAP	READ	1102213000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	3156450
+MAP	VALUE_BYTE_COUNT	27776760
+MAP	MAP	3713943000
+MAP	WRITE	1448795000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	277179000
+MAP	SERIALIZE_OUTPUT	490812000
+MAP	MAP_MEM	247095176
+SPILL	SORT_AND_SPILL	4136777000
+SPILL	QUICK_SORT	472110000
+SPILL	SORT_COUNT	315645
+SPILL	COMBINE	0
+SPILL	WRITE	3664667000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	32195844
+SPILL	COMPRESS_BYTE_COUNT	4671931
+MERGE	TOTAL_MERGE	1650000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	11630856000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00075	0
+MAP	STARTUP_MEM	214967320
+MAP	SETUP	488000
+MAP	SETUP_MEM	214967320
+MAP	CLEANUP	104000
+MAP	CLEANUP_MEM	250530608
+MAP	TOTAL_RUN	7618198000
+MAP	READ	1280169000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	3156450
+MAP	VALUE_BYTE_COUNT	27776760
+MAP	MAP	4860251000
+MAP	WRITE	2013350000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	363033000
+MAP	SERIALIZE_OUTPUT	575780000
+MAP	MAP_MEM	250530608
+SPILL	SORT_AND_SPILL	4140306000
+SPILL	QUICK_SORT	443289000
+SPILL	SORT_COUNT	315645
+SPILL	COMBINE	0
+SPILL	WRITE	3697017000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	32195844
+SPILL	COMPRESS_BYTE_COUNT	4671619
+MERGE	TOTAL_MERGE	1766000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	14292142000
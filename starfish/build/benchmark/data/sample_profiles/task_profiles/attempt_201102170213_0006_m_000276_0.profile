@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00076	0
+MAP	STARTUP_MEM	215794632
+MAP	SETUP	534000
+MAP	SETUP_MEM	215794632
+MAP	CLEANUP	101000
+MAP	CLEANUP_MEM	247360528
+MAP	TOTAL_RUN	7587273000
+MAP	READ	1033317000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	3156450
+MAP	VALUE_BYTE_COUNT	27776760
+MAP	MAP	5436466000
+MAP	WRITE	2824863000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	266120000
+MAP	SERIALIZE_OUTPUT	1895301000
+MAP	MAP_MEM	247360528
+SPILL	SORT_AND_SPILL	4411524000
+SPILL	QUICK_SORT	552574000
+SPILL	SORT_COUNT	315645
+SPILL	COMBINE	0
+SPILL	WRITE	3858950000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	32195844
+SPILL	COMPRESS_BYTE_COUNT	4671991
+MERGE	TOTAL_MERGE	1624000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	12548501000
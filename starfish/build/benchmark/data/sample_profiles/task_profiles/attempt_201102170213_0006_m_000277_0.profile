@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00077	0
+MAP	STARTUP_MEM	214973640
+MAP	SETUP	535000
+MAP	SETUP_MEM	214973640
+MAP	CLEANUP	93000
+MAP	CLEANUP_MEM	247891696
+MAP	TOTAL_RUN	7283816000
+MAP	READ	1276137000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	3156450
+MAP	VALUE_BYTE_COUNT	27776760
+MAP	MAP	4918461000
+MAP	WRITE	2317946000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	280581000
+MAP	SERIALIZE_OUTPUT	568371000
+MAP	MAP_MEM	247891696
+SPILL	SORT_AND_SPILL	5162871000
+SPILL	QUICK_SORT	467661000
+SPILL	SORT_COUNT	315645
+SPILL	COMBINE	0
+SPILL	WRITE	4695210000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	32195844
+SPILL	COMPRESS_BYTE_COUNT	4671565
+MERGE	TOTAL_MERGE	1696000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	14503225000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00078	0
+MAP	STARTUP_MEM	215066760
+MAP	SETUP	460000
+MAP	SETUP_MEM	215066760
+MAP	CLEANUP	93000
+MAP	CLEANUP_MEM	247148528
+MAP	TOTAL_RUN	6314288000
+MAP	READ	1092934000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	3156450
+MAP	VALUE_BYTE_COUNT	27776760
+MAP	MAP	4146155000
+MAP	WRITE	1484715000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	264116000
+MAP	SERIALIZE_OUTPUT	506493000
+MAP	MAP_MEM	247710688
+SPILL	SORT_AND_SPILL	4002222000
+SPILL	QUICK_SORT	442887000
+SPILL	SORT_COUNT	315645
+SPILL	COMBINE	0
+SPILL	WRITE	3559335000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	32195844
+SPILL	COMPRESS_BYTE_COUNT	4671714
+MERGE	TOTAL_MERGE	1621000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	11688189000
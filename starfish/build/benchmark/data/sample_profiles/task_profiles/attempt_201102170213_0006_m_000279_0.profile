@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00079	0
+MAP	STARTUP_MEM	214929152
+MAP	SETUP	509000
+MAP	SETUP_MEM	214929152
+MAP	CLEANUP	97000
+MAP	CLEANUP_MEM	247739280
+MAP	TOTAL_RUN	6521902000
+MAP	READ	1060945000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	3156450
+MAP	VALUE_BYTE_COUNT	27776760
+MAP	MAP	4354324000
+MAP	WRITE	1532717000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	291695000
+MAP	SERIALIZE_OUTPUT	491810000
+MAP	MAP_MEM	247739280
+SPILL	SORT_AND_SPILL	4527429000
+SPILL	QUICK_SORT	491225000
+SPILL	SORT_COUNT	315645
+SPILL	COMBINE	0
+SPILL	WRITE	4036204000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	32195844
+SPILL	COMPRESS_BYTE_COUNT	4670739
+MERGE	TOTAL_MERGE	1687000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	13902366000
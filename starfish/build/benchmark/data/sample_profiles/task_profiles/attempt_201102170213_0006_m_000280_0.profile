@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00080	0
+MAP	STARTUP_MEM	215941672
+MAP	SETUP	516000
+MAP	SETUP_MEM	215941672
+MAP	CLEANUP	99000
+MAP	CLEANUP_MEM	250074416
+MAP	TOTAL_RUN	10318280000
+MAP	READ	2173081000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	3156450
+MAP	VALUE_BYTE_COUNT	27776760
+MAP	MAP	6048065000
+MAP	WRITE	3000813000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1333155000
+MAP	SERIALIZE_OUTPUT	584921000
+MAP	MAP_MEM	250074416
+SPILL	SORT_AND_SPILL	13195539000
+SPILL	QUICK_SORT	457929000
+SPILL	SORT_COUNT	315645
+SPILL	COMBINE	0
+SPILL	WRITE	12737610000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	32195844
+SPILL	COMPRESS_BYTE_COUNT	4671714
+MERGE	TOTAL_MERGE	1647000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	25341637000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00081	0
+MAP	STARTUP_MEM	214936120
+MAP	SETUP	432000
+MAP	SETUP_MEM	214936120
+MAP	CLEANUP	98000
+MAP	CLEANUP_MEM	247227688
+MAP	TOTAL_RUN	7399503000
+MAP	READ	971919000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	3156450
+MAP	VALUE_BYTE_COUNT	27776760
+MAP	MAP	4854320000
+MAP	WRITE	1467622000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	264473000
+MAP	SERIALIZE_OUTPUT	458087000
+MAP	MAP_MEM	247227688
+SPILL	SORT_AND_SPILL	4423507000
+SPILL	QUICK_SORT	442685000
+SPILL	SORT_COUNT	315645
+SPILL	COMBINE	0
+SPILL	WRITE	3980822000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	32195844
+SPILL	COMPRESS_BYTE_COUNT	4672574
+MERGE	TOTAL_MERGE	1582000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	12495068000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00082	0
+MAP	STARTUP_MEM	214945280
+MAP	SETUP	479000
+MAP	SETUP_MEM	214945280
+MAP	CLEANUP	103000
+MAP	CLEANUP_MEM	246068976
+MAP	TOTAL_RUN	7531631000
+MAP	READ	1130427000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	3156450
+MAP	VALUE_BYTE_COUNT	27776760
+MAP	MAP	4855080000
+MAP	WRITE	2237468000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	275267000
+MAP	SERIALIZE_OUTPUT	1097523000
+MAP	MAP_MEM	246068976
+SPILL	SORT_AND_SPILL	4781426000
+SPILL	QUICK_SORT	529965000
+SPILL	SORT_COUNT	315645
+SPILL	COMBINE	0
+SPILL	WRITE	4251461000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	32195844
+SPILL	COMPRESS_BYTE_COUNT	4671215
+MERGE	TOTAL_MERGE	1727000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	14155373000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00083	0
+MAP	STARTUP_MEM	215793264
+MAP	SETUP	486000
+MAP	SETUP_MEM	215793264
+MAP	CLEANUP	97000
+MAP	CLEANUP_MEM	250297776
+MAP	TOTAL_RUN	10641007000
+MAP	READ	2505242000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	3156450
+MAP	VALUE_BYTE_COUNT	27776760
+MAP	MAP	6636388000
+MAP	WRITE	2337250000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	404570000
+MAP	SERIALIZE_OUTPUT	647238000
+MAP	MAP_MEM	250297776
+SPILL	SORT_AND_SPILL	7296533000
+SPILL	QUICK_SORT	503354000
+SPILL	SORT_COUNT	315645
+SPILL	COMBINE	0
+SPILL	WRITE	6793179000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	32195844
+SPILL	COMPRESS_BYTE_COUNT	4671992
+MERGE	TOTAL_MERGE	1707000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	18441651000
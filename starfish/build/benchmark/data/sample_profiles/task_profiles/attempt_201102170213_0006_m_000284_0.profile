@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00084	0
+MAP	STARTUP_MEM	216156280
+MAP	SETUP	537000
+MAP	SETUP_MEM	216156280
+MAP	CLEANUP	104000
+MAP	CLEANUP_MEM	248207176
+MAP	TOTAL_RUN	8087454000
+MAP	READ	1675750000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	3156450
+MAP	VALUE_BYTE_COUNT	27776760
+MAP	MAP	5204670000
+MAP	WRITE	2619010000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	275652000
+MAP	SERIALIZE_OUTPUT	717969000
+MAP	MAP_MEM	248207176
+SPILL	SORT_AND_SPILL	4595229000
+SPILL	QUICK_SORT	635272000
+SPILL	SORT_COUNT	315645
+SPILL	COMBINE	0
+SPILL	WRITE	3959957000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	32195844
+SPILL	COMPRESS_BYTE_COUNT	4672027
+MERGE	TOTAL_MERGE	1655000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	13913300000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00085	0
+MAP	STARTUP_MEM	215012400
+MAP	SETUP	530000
+MAP	SETUP_MEM	215012400
+MAP	CLEANUP	118000
+MAP	CLEANUP_MEM	247175664
+MAP	TOTAL_RUN	8132788000
+MAP	READ	1092423000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	3156450
+MAP	VALUE_BYTE_COUNT	27776760
+MAP	MAP	5756866000
+MAP	WRITE	3065244000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	276875000
+MAP	SERIALIZE_OUTPUT	640727000
+MAP	MAP_MEM	247737824
+SPILL	SORT_AND_SPILL	4386502000
+SPILL	QUICK_SORT	468036000
+SPILL	SORT_COUNT	315645
+SPILL	COMBINE	0
+SPILL	WRITE	3918466000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	32195844
+SPILL	COMPRESS_BYTE_COUNT	4670648
+MERGE	TOTAL_MERGE	1889000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	13242752000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00086	0
+MAP	STARTUP_MEM	215933656
+MAP	SETUP	490000
+MAP	SETUP_MEM	215933656
+MAP	CLEANUP	472000
+MAP	CLEANUP_MEM	247249672
+MAP	TOTAL_RUN	6279640000
+MAP	READ	1020685000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	3156450
+MAP	VALUE_BYTE_COUNT	27776760
+MAP	MAP	4148495000
+MAP	WRITE	1476799000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	290114000
+MAP	SERIALIZE_OUTPUT	535260000
+MAP	MAP_MEM	247811832
+SPILL	SORT_AND_SPILL	4288981000
+SPILL	QUICK_SORT	507849000
+SPILL	SORT_COUNT	315645
+SPILL	COMBINE	0
+SPILL	WRITE	3781132000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	32195844
+SPILL	COMPRESS_BYTE_COUNT	4673215
+MERGE	TOTAL_MERGE	1613000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	11115476000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00087	0
+MAP	STARTUP_MEM	215917192
+MAP	SETUP	481000
+MAP	SETUP_MEM	215917192
+MAP	CLEANUP	99000
+MAP	CLEANUP_MEM	247105592
+MAP	TOTAL_RUN	5945328000
+MAP	READ	965970000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	3156450
+MAP	VALUE_BYTE_COUNT	27776760
+MAP	MAP	3927508000
+MAP	WRITE	1637261000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	307742000
+MAP	SERIALIZE_OUTPUT	475940000
+MAP	MAP_MEM	247667752
+SPILL	SORT_AND_SPILL	3947812000
+SPILL	QUICK_SORT	437629000
+SPILL	SORT_COUNT	315645
+SPILL	COMBINE	0
+SPILL	WRITE	3510183000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	32195844
+SPILL	COMPRESS_BYTE_COUNT	4672543
+MERGE	TOTAL_MERGE	1625000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	10501555000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00088	0
+MAP	STARTUP_MEM	215070680
+MAP	SETUP	497000
+MAP	SETUP_MEM	215070680
+MAP	CLEANUP	96000
+MAP	CLEANUP_MEM	250616824
+MAP	TOTAL_RUN	8837318000
+MAP	READ	2197183000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	3156450
+MAP	VALUE_BYTE_COUNT	27776760
+MAP	MAP	5096821000
+MAP	WRITE	2021124000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	365822000
+MAP	SERIALIZE_OUTPUT	664343000
+MAP	MAP_MEM	250616824
+SPILL	SORT_AND_SPILL	4509447000
+SPILL	QUICK_SORT	453966000
+SPILL	SORT_COUNT	315645
+SPILL	COMBINE	0
+SPILL	WRITE	4055481000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	32195844
+SPILL	COMPRESS_BYTE_COUNT	4672129
+MERGE	TOTAL_MERGE	1700000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	16579809000
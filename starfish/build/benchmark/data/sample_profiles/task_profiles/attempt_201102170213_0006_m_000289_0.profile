@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00089	0
+MAP	STARTUP_MEM	215168024
+MAP	SETUP	441000
+MAP	SETUP_MEM	215168024
+MAP	CLEANUP	91000
+MAP	CLEANUP_MEM	248737960
+MAP	TOTAL_RUN	6305284000
+MAP	READ	1122891000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	3156450
+MAP	VALUE_BYTE_COUNT	27776760
+MAP	MAP	4122105000
+MAP	WRITE	1553610000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	341954000
+MAP	SERIALIZE_OUTPUT	537224000
+MAP	MAP_MEM	248737960
+SPILL	SORT_AND_SPILL	4380435000
+SPILL	QUICK_SORT	503183000
+SPILL	SORT_COUNT	315645
+SPILL	COMBINE	0
+SPILL	WRITE	3877252000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	32195844
+SPILL	COMPRESS_BYTE_COUNT	4670652
+MERGE	TOTAL_MERGE	1612000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	11299045000
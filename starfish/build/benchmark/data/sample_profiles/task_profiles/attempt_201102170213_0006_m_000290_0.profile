@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00090	0
+MAP	STARTUP_MEM	214864752
+MAP	SETUP	492000
+MAP	SETUP_MEM	214864752
+MAP	CLEANUP	109000
+MAP	CLEANUP_MEM	247214232
+MAP	TOTAL_RUN	6603231000
+MAP	READ	1007243000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	3156450
+MAP	VALUE_BYTE_COUNT	27776760
+MAP	MAP	4204436000
+MAP	WRITE	1529609000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	311116000
+MAP	SERIALIZE_OUTPUT	479668000
+MAP	MAP_MEM	247776392
+SPILL	SORT_AND_SPILL	4752853000
+SPILL	QUICK_SORT	463382000
+SPILL	SORT_COUNT	315645
+SPILL	COMBINE	0
+SPILL	WRITE	4289471000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	32195844
+SPILL	COMPRESS_BYTE_COUNT	4671631
+MERGE	TOTAL_MERGE	1947000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	12594338000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00091	0
+MAP	STARTUP_MEM	214979128
+MAP	SETUP	511000
+MAP	SETUP_MEM	214979128
+MAP	CLEANUP	106000
+MAP	CLEANUP_MEM	249011600
+MAP	TOTAL_RUN	8180678000
+MAP	READ	1627606000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	3156450
+MAP	VALUE_BYTE_COUNT	27776760
+MAP	MAP	5106275000
+MAP	WRITE	2010202000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	414377000
+MAP	SERIALIZE_OUTPUT	608517000
+MAP	MAP_MEM	249011600
+SPILL	SORT_AND_SPILL	8210408000
+SPILL	QUICK_SORT	564617000
+SPILL	SORT_COUNT	315645
+SPILL	COMBINE	0
+SPILL	WRITE	7645791000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	32195844
+SPILL	COMPRESS_BYTE_COUNT	4672024
+MERGE	TOTAL_MERGE	1650000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	17561050000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00092	0
+MAP	STARTUP_MEM	215057528
+MAP	SETUP	496000
+MAP	SETUP_MEM	215057528
+MAP	CLEANUP	96000
+MAP	CLEANUP_MEM	250655664
+MAP	TOTAL_RUN	11347972000
+MAP	READ	3877407000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	3156450
+MAP	VALUE_BYTE_COUNT	27776760
+MAP	MAP	6031974000
+MAP	WRITE	2217403000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	481907000
+MAP	SERIALIZE_OUTPUT	624432000
+MAP	MAP_MEM	250655664
+SPILL	SORT_AND_SPILL	4592131000
+SPILL	QUICK_SORT	766174000
+SPILL	SORT_COUNT	315645
+SPILL	COMBINE	0
+SPILL	WRITE	3825957000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	32195844
+SPILL	COMPRESS_BYTE_COUNT	4671537
+MERGE	TOTAL_MERGE	1709000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	18201643000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00093	0
+MAP	STARTUP_MEM	215834640
+MAP	SETUP	530000
+MAP	SETUP_MEM	215834640
+MAP	CLEANUP	94000
+MAP	CLEANUP_MEM	247290728
+MAP	TOTAL_RUN	8107584000
+MAP	READ	1676043000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	3156450
+MAP	VALUE_BYTE_COUNT	27776760
+MAP	MAP	5070647000
+MAP	WRITE	2093983000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	375729000
+MAP	SERIALIZE_OUTPUT	665179000
+MAP	MAP_MEM	247290728
+SPILL	SORT_AND_SPILL	4310185000
+SPILL	QUICK_SORT	634288000
+SPILL	SORT_COUNT	315645
+SPILL	COMBINE	0
+SPILL	WRITE	3675897000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	32195844
+SPILL	COMPRESS_BYTE_COUNT	4672046
+MERGE	TOTAL_MERGE	1659000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	12967478000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00094	0
+MAP	STARTUP_MEM	216138680
+MAP	SETUP	493000
+MAP	SETUP_MEM	216138680
+MAP	CLEANUP	91000
+MAP	CLEANUP_MEM	247133136
+MAP	TOTAL_RUN	6231865000
+MAP	READ	1070763000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	3156450
+MAP	VALUE_BYTE_COUNT	27776760
+MAP	MAP	4123856000
+MAP	WRITE	1580875000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	278361000
+MAP	SERIALIZE_OUTPUT	553805000
+MAP	MAP_MEM	247695296
+SPILL	SORT_AND_SPILL	4357489000
+SPILL	QUICK_SORT	458116000
+SPILL	SORT_COUNT	315645
+SPILL	COMBINE	0
+SPILL	WRITE	3899373000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	32195844
+SPILL	COMPRESS_BYTE_COUNT	4672306
+MERGE	TOTAL_MERGE	1586000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	11092476000
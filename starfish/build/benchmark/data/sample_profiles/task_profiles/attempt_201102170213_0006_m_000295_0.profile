@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00095	0
+MAP	STARTUP_MEM	214946208
+MAP	SETUP	511000
+MAP	SETUP_MEM	214946208
+MAP	CLEANUP	126000
+MAP	CLEANUP_MEM	247513872
+MAP	TOTAL_RUN	7680478000
+MAP	READ	1675369000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	3156450
+MAP	VALUE_BYTE_COUNT	27776760
+MAP	MAP	4988057000
+MAP	WRITE	1888399000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	344376000
+MAP	SERIALIZE_OUTPUT	487696000
+MAP	MAP_MEM	247513872
+SPILL	SORT_AND_SPILL	5769005000
+SPILL	QUICK_SORT	581697000
+SPILL	SORT_COUNT	315645
+SPILL	COMBINE	0
+SPILL	WRITE	5187308000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	32195844
+SPILL	COMPRESS_BYTE_COUNT	4671220
+MERGE	TOTAL_MERGE	1806000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	16082539000
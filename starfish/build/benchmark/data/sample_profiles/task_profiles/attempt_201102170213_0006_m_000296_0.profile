@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00096	0
+MAP	STARTUP_MEM	217333408
+MAP	SETUP	587000
+MAP	SETUP_MEM	217333408
+MAP	CLEANUP	89000
+MAP	CLEANUP_MEM	252227280
+MAP	TOTAL_RUN	13478609000
+MAP	READ	3889060000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	3156450
+MAP	VALUE_BYTE_COUNT	27776760
+MAP	MAP	8386442000
+MAP	WRITE	1547926000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	282673000
+MAP	SERIALIZE_OUTPUT	499621000
+MAP	MAP_MEM	252227280
+SPILL	SORT_AND_SPILL	7989229000
+SPILL	QUICK_SORT	2311811000
+SPILL	SORT_COUNT	315645
+SPILL	COMBINE	0
+SPILL	WRITE	5677418000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	32195844
+SPILL	COMPRESS_BYTE_COUNT	4671461
+MERGE	TOTAL_MERGE	1961000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	28936397000
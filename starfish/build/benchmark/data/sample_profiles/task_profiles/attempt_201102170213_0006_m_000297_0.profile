@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00097	0
+MAP	STARTUP_MEM	214933072
+MAP	SETUP	433000
+MAP	SETUP_MEM	214933072
+MAP	CLEANUP	91000
+MAP	CLEANUP_MEM	249180288
+MAP	TOTAL_RUN	6922325000
+MAP	READ	1191476000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	3156450
+MAP	VALUE_BYTE_COUNT	27776760
+MAP	MAP	4487700000
+MAP	WRITE	1455852000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	263789000
+MAP	SERIALIZE_OUTPUT	487043000
+MAP	MAP_MEM	249742448
+SPILL	SORT_AND_SPILL	4491127000
+SPILL	QUICK_SORT	545629000
+SPILL	SORT_COUNT	315645
+SPILL	COMBINE	0
+SPILL	WRITE	3945498000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	32195844
+SPILL	COMPRESS_BYTE_COUNT	4671942
+MERGE	TOTAL_MERGE	1592000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	12930702000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00098	0
+MAP	STARTUP_MEM	215839032
+MAP	SETUP	590000
+MAP	SETUP_MEM	215839032
+MAP	CLEANUP	97000
+MAP	CLEANUP_MEM	247643896
+MAP	TOTAL_RUN	7430361000
+MAP	READ	1440811000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	3156450
+MAP	VALUE_BYTE_COUNT	27776760
+MAP	MAP	4543947000
+MAP	WRITE	1855249000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	337169000
+MAP	SERIALIZE_OUTPUT	638505000
+MAP	MAP_MEM	247643896
+SPILL	SORT_AND_SPILL	4915242000
+SPILL	QUICK_SORT	681859000
+SPILL	SORT_COUNT	315645
+SPILL	COMBINE	0
+SPILL	WRITE	4233383000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	32195844
+SPILL	COMPRESS_BYTE_COUNT	4670859
+MERGE	TOTAL_MERGE	1655000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	12836885000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/terasort/in/part-m-00099	0
+MAP	STARTUP_MEM	215243184
+MAP	SETUP	511000
+MAP	SETUP_MEM	215243184
+MAP	CLEANUP	97000
+MAP	CLEANUP_MEM	248490656
+MAP	TOTAL_RUN	7923734000
+MAP	READ	1758663000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	3156450
+MAP	VALUE_BYTE_COUNT	27776760
+MAP	MAP	4485967000
+MAP	WRITE	1863513000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	382686000
+MAP	SERIALIZE_OUTPUT	561831000
+MAP	MAP_MEM	248490656
+SPILL	SORT_AND_SPILL	5615647000
+SPILL	QUICK_SORT	523044000
+SPILL	SORT_COUNT	315645
+SPILL	COMBINE	0
+SPILL	WRITE	5092603000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	32195844
+SPILL	COMPRESS_BYTE_COUNT	4670621
+MERGE	TOTAL_MERGE	1652000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	14471324000
@@ -0,0 +1 @@
+TASK	TOTAL_RUN	39502000
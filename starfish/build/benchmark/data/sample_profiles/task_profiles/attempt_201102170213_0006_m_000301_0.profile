@@ -0,0 +1 @@
+TASK	TOTAL_RUN	1499244000
@@ -0,0 +1,1229 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5229848
+SHUFFLE	COMPRESS_BYTE_COUNT	760059
+SHUFFLE	COPY_MAP_DATA	241265000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5213834
+SHUFFLE	COMPRESS_BYTE_COUNT	758175
+SHUFFLE	COPY_MAP_DATA	95919000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5206694
+SHUFFLE	COMPRESS_BYTE_COUNT	756909
+SHUFFLE	COPY_MAP_DATA	84880000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5218628
+SHUFFLE	COMPRESS_BYTE_COUNT	758774
+SHUFFLE	COPY_MAP_DATA	189547000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5184662
+SHUFFLE	COMPRESS_BYTE_COUNT	753639
+SHUFFLE	COPY_MAP_DATA	89941000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5194658
+SHUFFLE	COMPRESS_BYTE_COUNT	755173
+SHUFFLE	COPY_MAP_DATA	53567000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5185682
+SHUFFLE	COMPRESS_BYTE_COUNT	753648
+SHUFFLE	COPY_MAP_DATA	1526910000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5224238
+SHUFFLE	COMPRESS_BYTE_COUNT	758668
+SHUFFLE	COPY_MAP_DATA	144381000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5232194
+SHUFFLE	COMPRESS_BYTE_COUNT	760279
+SHUFFLE	COPY_MAP_DATA	91580000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5177114
+SHUFFLE	COMPRESS_BYTE_COUNT	752292
+SHUFFLE	COPY_MAP_DATA	48368000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5226890
+SHUFFLE	COMPRESS_BYTE_COUNT	759292
+SHUFFLE	COPY_MAP_DATA	58414000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5214038
+SHUFFLE	COMPRESS_BYTE_COUNT	758176
+SHUFFLE	COPY_MAP_DATA	203331000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5193026
+SHUFFLE	COMPRESS_BYTE_COUNT	754876
+SHUFFLE	COPY_MAP_DATA	49604000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5157632
+SHUFFLE	COMPRESS_BYTE_COUNT	749918
+SHUFFLE	COPY_MAP_DATA	111754000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5179256
+SHUFFLE	COMPRESS_BYTE_COUNT	752420
+SHUFFLE	COPY_MAP_DATA	46454000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5189252
+SHUFFLE	COMPRESS_BYTE_COUNT	754297
+SHUFFLE	COPY_MAP_DATA	1680167000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5247290
+SHUFFLE	COMPRESS_BYTE_COUNT	762351
+SHUFFLE	COPY_MAP_DATA	72765000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5228828
+SHUFFLE	COMPRESS_BYTE_COUNT	759736
+SHUFFLE	COPY_MAP_DATA	58638000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5219546
+SHUFFLE	COMPRESS_BYTE_COUNT	759134
+SHUFFLE	COPY_MAP_DATA	209644000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5177216
+SHUFFLE	COMPRESS_BYTE_COUNT	752877
+SHUFFLE	COPY_MAP_DATA	199834000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5216894
+SHUFFLE	COMPRESS_BYTE_COUNT	758455
+SHUFFLE	COPY_MAP_DATA	91126000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5198432
+SHUFFLE	COMPRESS_BYTE_COUNT	756192
+SHUFFLE	COPY_MAP_DATA	198623000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5241782
+SHUFFLE	COMPRESS_BYTE_COUNT	762012
+SHUFFLE	COPY_MAP_DATA	51419000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5220362
+SHUFFLE	COMPRESS_BYTE_COUNT	759046
+SHUFFLE	COPY_MAP_DATA	59099000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5201492
+SHUFFLE	COMPRESS_BYTE_COUNT	756390
+SHUFFLE	COPY_MAP_DATA	52157000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5227502
+SHUFFLE	COMPRESS_BYTE_COUNT	759930
+SHUFFLE	COPY_MAP_DATA	87864000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5160794
+SHUFFLE	COMPRESS_BYTE_COUNT	750609
+SHUFFLE	COPY_MAP_DATA	214786000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5204960
+SHUFFLE	COMPRESS_BYTE_COUNT	756298
+SHUFFLE	COPY_MAP_DATA	4428055000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5196392
+SHUFFLE	COMPRESS_BYTE_COUNT	755563
+SHUFFLE	COPY_MAP_DATA	106854000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5234642
+SHUFFLE	COMPRESS_BYTE_COUNT	761050
+SHUFFLE	COPY_MAP_DATA	48682000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5218730
+SHUFFLE	COMPRESS_BYTE_COUNT	758638
+SHUFFLE	COPY_MAP_DATA	422282000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5163038
+SHUFFLE	COMPRESS_BYTE_COUNT	750680
+SHUFFLE	COPY_MAP_DATA	79227000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5202512
+SHUFFLE	COMPRESS_BYTE_COUNT	756164
+SHUFFLE	COPY_MAP_DATA	60152000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5238926
+SHUFFLE	COMPRESS_BYTE_COUNT	761552
+SHUFFLE	COPY_MAP_DATA	44830000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5211386
+SHUFFLE	COMPRESS_BYTE_COUNT	757180
+SHUFFLE	COPY_MAP_DATA	62387000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5253512
+SHUFFLE	COMPRESS_BYTE_COUNT	763766
+SHUFFLE	COPY_MAP_DATA	130823000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5170076
+SHUFFLE	COMPRESS_BYTE_COUNT	751448
+SHUFFLE	COPY_MAP_DATA	208043000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5174054
+SHUFFLE	COMPRESS_BYTE_COUNT	751890
+SHUFFLE	COPY_MAP_DATA	51791000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5200778
+SHUFFLE	COMPRESS_BYTE_COUNT	756369
+SHUFFLE	COPY_MAP_DATA	65534000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5222708
+SHUFFLE	COMPRESS_BYTE_COUNT	759376
+SHUFFLE	COPY_MAP_DATA	45980000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5184152
+SHUFFLE	COMPRESS_BYTE_COUNT	753715
+SHUFFLE	COPY_MAP_DATA	45584000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5186294
+SHUFFLE	COMPRESS_BYTE_COUNT	753823
+SHUFFLE	COPY_MAP_DATA	48669000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5207408
+SHUFFLE	COMPRESS_BYTE_COUNT	756691
+SHUFFLE	COPY_MAP_DATA	182647000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5224442
+SHUFFLE	COMPRESS_BYTE_COUNT	759479
+SHUFFLE	COPY_MAP_DATA	116588000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5138150
+SHUFFLE	COMPRESS_BYTE_COUNT	747366
+SHUFFLE	COPY_MAP_DATA	46948000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5181806
+SHUFFLE	COMPRESS_BYTE_COUNT	753258
+SHUFFLE	COPY_MAP_DATA	45008000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5151614
+SHUFFLE	COMPRESS_BYTE_COUNT	748638
+SHUFFLE	COPY_MAP_DATA	526227000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5195576
+SHUFFLE	COMPRESS_BYTE_COUNT	755361
+SHUFFLE	COPY_MAP_DATA	128317000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5194250
+SHUFFLE	COMPRESS_BYTE_COUNT	754841
+SHUFFLE	COPY_MAP_DATA	51158000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5212814
+SHUFFLE	COMPRESS_BYTE_COUNT	757589
+SHUFFLE	COPY_MAP_DATA	106964000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5203022
+SHUFFLE	COMPRESS_BYTE_COUNT	756389
+SHUFFLE	COPY_MAP_DATA	272139000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5197310
+SHUFFLE	COMPRESS_BYTE_COUNT	755241
+SHUFFLE	COPY_MAP_DATA	83757000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5220158
+SHUFFLE	COMPRESS_BYTE_COUNT	759297
+SHUFFLE	COPY_MAP_DATA	61286000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5199962
+SHUFFLE	COMPRESS_BYTE_COUNT	751231
+SHUFFLE	COPY_MAP_DATA	405823000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5206694
+SHUFFLE	COMPRESS_BYTE_COUNT	756386
+SHUFFLE	COPY_MAP_DATA	170714000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5206490
+SHUFFLE	COMPRESS_BYTE_COUNT	756604
+SHUFFLE	COPY_MAP_DATA	1303454000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5224544
+SHUFFLE	COMPRESS_BYTE_COUNT	759239
+SHUFFLE	COPY_MAP_DATA	146361000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5220974
+SHUFFLE	COMPRESS_BYTE_COUNT	758655
+SHUFFLE	COPY_MAP_DATA	47783000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5226584
+SHUFFLE	COMPRESS_BYTE_COUNT	759849
+SHUFFLE	COPY_MAP_DATA	113040000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5194148
+SHUFFLE	COMPRESS_BYTE_COUNT	755298
+SHUFFLE	COPY_MAP_DATA	878997000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5190170
+SHUFFLE	COMPRESS_BYTE_COUNT	754726
+SHUFFLE	COPY_MAP_DATA	54362000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5177828
+SHUFFLE	COMPRESS_BYTE_COUNT	752931
+SHUFFLE	COPY_MAP_DATA	48043000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5249228
+SHUFFLE	COMPRESS_BYTE_COUNT	763165
+SHUFFLE	COPY_MAP_DATA	204434000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5231072
+SHUFFLE	COMPRESS_BYTE_COUNT	760605
+SHUFFLE	COPY_MAP_DATA	643764000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5212100
+SHUFFLE	COMPRESS_BYTE_COUNT	757925
+SHUFFLE	COPY_MAP_DATA	226215000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5185376
+SHUFFLE	COMPRESS_BYTE_COUNT	753878
+SHUFFLE	COPY_MAP_DATA	1171528000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5221688
+SHUFFLE	COMPRESS_BYTE_COUNT	758848
+SHUFFLE	COPY_MAP_DATA	56897000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5206694
+SHUFFLE	COMPRESS_BYTE_COUNT	756814
+SHUFFLE	COPY_MAP_DATA	362747000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5225462
+SHUFFLE	COMPRESS_BYTE_COUNT	759406
+SHUFFLE	COPY_MAP_DATA	143973000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5194862
+SHUFFLE	COMPRESS_BYTE_COUNT	755286
+SHUFFLE	COPY_MAP_DATA	173037000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5202920
+SHUFFLE	COMPRESS_BYTE_COUNT	755974
+SHUFFLE	COPY_MAP_DATA	73110000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5208224
+SHUFFLE	COMPRESS_BYTE_COUNT	757489
+SHUFFLE	COPY_MAP_DATA	155214000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5251370
+SHUFFLE	COMPRESS_BYTE_COUNT	763412
+SHUFFLE	COPY_MAP_DATA	68917000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5228726
+SHUFFLE	COMPRESS_BYTE_COUNT	759932
+SHUFFLE	COPY_MAP_DATA	65791000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5208836
+SHUFFLE	COMPRESS_BYTE_COUNT	757298
+SHUFFLE	COPY_MAP_DATA	6887829000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5200574
+SHUFFLE	COMPRESS_BYTE_COUNT	756093
+SHUFFLE	COPY_MAP_DATA	103324000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5220770
+SHUFFLE	COMPRESS_BYTE_COUNT	758503
+SHUFFLE	COPY_MAP_DATA	74743000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5211080
+SHUFFLE	COMPRESS_BYTE_COUNT	757222
+SHUFFLE	COPY_MAP_DATA	3040294000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5167220
+SHUFFLE	COMPRESS_BYTE_COUNT	751343
+SHUFFLE	COPY_MAP_DATA	51670000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5225156
+SHUFFLE	COMPRESS_BYTE_COUNT	759689
+SHUFFLE	COPY_MAP_DATA	47049000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5262692
+SHUFFLE	COMPRESS_BYTE_COUNT	765160
+SHUFFLE	COPY_MAP_DATA	87282000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5235152
+SHUFFLE	COMPRESS_BYTE_COUNT	760926
+SHUFFLE	COPY_MAP_DATA	212763000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5185478
+SHUFFLE	COMPRESS_BYTE_COUNT	753951
+SHUFFLE	COPY_MAP_DATA	8201317000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5185172
+SHUFFLE	COMPRESS_BYTE_COUNT	753874
+SHUFFLE	COPY_MAP_DATA	48300000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5228318
+SHUFFLE	COMPRESS_BYTE_COUNT	759743
+SHUFFLE	COPY_MAP_DATA	54798000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5194148
+SHUFFLE	COMPRESS_BYTE_COUNT	754687
+SHUFFLE	COPY_MAP_DATA	164809000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5195984
+SHUFFLE	COMPRESS_BYTE_COUNT	755033
+SHUFFLE	COPY_MAP_DATA	97519318
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5205572
+SHUFFLE	COMPRESS_BYTE_COUNT	756397
+SHUFFLE	COPY_MAP_DATA	9941901000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5198126
+SHUFFLE	COMPRESS_BYTE_COUNT	756075
+SHUFFLE	COPY_MAP_DATA	56420000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5270342
+SHUFFLE	COMPRESS_BYTE_COUNT	766261
+SHUFFLE	COPY_MAP_DATA	68861000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5238518
+SHUFFLE	COMPRESS_BYTE_COUNT	761197
+SHUFFLE	COPY_MAP_DATA	44566000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5218220
+SHUFFLE	COMPRESS_BYTE_COUNT	758295
+SHUFFLE	COPY_MAP_DATA	245187000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5233826
+SHUFFLE	COMPRESS_BYTE_COUNT	760791
+SHUFFLE	COPY_MAP_DATA	88902000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5203838
+SHUFFLE	COMPRESS_BYTE_COUNT	756804
+SHUFFLE	COPY_MAP_DATA	1022076000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5244026
+SHUFFLE	COMPRESS_BYTE_COUNT	762340
+SHUFFLE	COPY_MAP_DATA	3653022000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5213936
+SHUFFLE	COMPRESS_BYTE_COUNT	757695
+SHUFFLE	COPY_MAP_DATA	245698000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5196494
+SHUFFLE	COMPRESS_BYTE_COUNT	755440
+SHUFFLE	COPY_MAP_DATA	96821000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5218424
+SHUFFLE	COMPRESS_BYTE_COUNT	758543
+SHUFFLE	COPY_MAP_DATA	66713000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5184152
+SHUFFLE	COMPRESS_BYTE_COUNT	753670
+SHUFFLE	COPY_MAP_DATA	130350000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5197106
+SHUFFLE	COMPRESS_BYTE_COUNT	755253
+SHUFFLE	COPY_MAP_DATA	66243000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5213324
+SHUFFLE	COMPRESS_BYTE_COUNT	757804
+SHUFFLE	COPY_MAP_DATA	77608000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5210468
+SHUFFLE	COMPRESS_BYTE_COUNT	757794
+SHUFFLE	COPY_MAP_DATA	47479000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5182622
+SHUFFLE	COMPRESS_BYTE_COUNT	753462
+SHUFFLE	COPY_MAP_DATA	195896000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5184968
+SHUFFLE	COMPRESS_BYTE_COUNT	753965
+SHUFFLE	COPY_MAP_DATA	659477000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5213324
+SHUFFLE	COMPRESS_BYTE_COUNT	757436
+SHUFFLE	COPY_MAP_DATA	1376324276
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5180786
+SHUFFLE	COMPRESS_BYTE_COUNT	753051
+SHUFFLE	COPY_MAP_DATA	47538000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5250350
+SHUFFLE	COMPRESS_BYTE_COUNT	763110
+SHUFFLE	COPY_MAP_DATA	48854000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5188844
+SHUFFLE	COMPRESS_BYTE_COUNT	754470
+SHUFFLE	COPY_MAP_DATA	1450293000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5193026
+SHUFFLE	COMPRESS_BYTE_COUNT	754797
+SHUFFLE	COPY_MAP_DATA	46549000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5200064
+SHUFFLE	COMPRESS_BYTE_COUNT	755720
+SHUFFLE	COPY_MAP_DATA	112905000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5182724
+SHUFFLE	COMPRESS_BYTE_COUNT	752968
+SHUFFLE	COPY_MAP_DATA	595902000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5191292
+SHUFFLE	COMPRESS_BYTE_COUNT	754606
+SHUFFLE	COPY_MAP_DATA	194407000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5243720
+SHUFFLE	COMPRESS_BYTE_COUNT	762098
+SHUFFLE	COPY_MAP_DATA	48706000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5222708
+SHUFFLE	COMPRESS_BYTE_COUNT	759337
+SHUFFLE	COPY_MAP_DATA	162241000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5216894
+SHUFFLE	COMPRESS_BYTE_COUNT	757974
+SHUFFLE	COPY_MAP_DATA	46877000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5225666
+SHUFFLE	COMPRESS_BYTE_COUNT	759914
+SHUFFLE	COPY_MAP_DATA	313053000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5218628
+SHUFFLE	COMPRESS_BYTE_COUNT	758144
+SHUFFLE	COPY_MAP_DATA	60832000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5241884
+SHUFFLE	COMPRESS_BYTE_COUNT	761985
+SHUFFLE	COPY_MAP_DATA	55999000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5181194
+SHUFFLE	COMPRESS_BYTE_COUNT	753053
+SHUFFLE	COPY_MAP_DATA	497299000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5212202
+SHUFFLE	COMPRESS_BYTE_COUNT	757668
+SHUFFLE	COPY_MAP_DATA	235108000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5204756
+SHUFFLE	COMPRESS_BYTE_COUNT	756721
+SHUFFLE	COPY_MAP_DATA	48998000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5256674
+SHUFFLE	COMPRESS_BYTE_COUNT	764036
+SHUFFLE	COPY_MAP_DATA	226942000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5187722
+SHUFFLE	COMPRESS_BYTE_COUNT	754164
+SHUFFLE	COPY_MAP_DATA	53934000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5246372
+SHUFFLE	COMPRESS_BYTE_COUNT	762334
+SHUFFLE	COPY_MAP_DATA	230584000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5227808
+SHUFFLE	COMPRESS_BYTE_COUNT	759072
+SHUFFLE	COPY_MAP_DATA	1319422000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5184866
+SHUFFLE	COMPRESS_BYTE_COUNT	753335
+SHUFFLE	COPY_MAP_DATA	52383000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5237090
+SHUFFLE	COMPRESS_BYTE_COUNT	761127
+SHUFFLE	COPY_MAP_DATA	211264000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5220260
+SHUFFLE	COMPRESS_BYTE_COUNT	758929
+SHUFFLE	COPY_MAP_DATA	84449000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5232296
+SHUFFLE	COMPRESS_BYTE_COUNT	760674
+SHUFFLE	COPY_MAP_DATA	46450000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5237804
+SHUFFLE	COMPRESS_BYTE_COUNT	761495
+SHUFFLE	COPY_MAP_DATA	46942000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5228216
+SHUFFLE	COMPRESS_BYTE_COUNT	760279
+SHUFFLE	COPY_MAP_DATA	61154000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5241578
+SHUFFLE	COMPRESS_BYTE_COUNT	761962
+SHUFFLE	COPY_MAP_DATA	201816000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5218730
+SHUFFLE	COMPRESS_BYTE_COUNT	758926
+SHUFFLE	COPY_MAP_DATA	2361775000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5209244
+SHUFFLE	COMPRESS_BYTE_COUNT	757003
+SHUFFLE	COPY_MAP_DATA	82123000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5226074
+SHUFFLE	COMPRESS_BYTE_COUNT	759267
+SHUFFLE	COPY_MAP_DATA	3311589000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5215466
+SHUFFLE	COMPRESS_BYTE_COUNT	757785
+SHUFFLE	COPY_MAP_DATA	380612000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5251064
+SHUFFLE	COMPRESS_BYTE_COUNT	755826
+SHUFFLE	COPY_MAP_DATA	154635000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5216180
+SHUFFLE	COMPRESS_BYTE_COUNT	758456
+SHUFFLE	COPY_MAP_DATA	126776000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5220668
+SHUFFLE	COMPRESS_BYTE_COUNT	758794
+SHUFFLE	COPY_MAP_DATA	53876000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5209958
+SHUFFLE	COMPRESS_BYTE_COUNT	757075
+SHUFFLE	COPY_MAP_DATA	163524000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5201084
+SHUFFLE	COMPRESS_BYTE_COUNT	756275
+SHUFFLE	COPY_MAP_DATA	49353000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5215262
+SHUFFLE	COMPRESS_BYTE_COUNT	757966
+SHUFFLE	COPY_MAP_DATA	103810000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5186396
+SHUFFLE	COMPRESS_BYTE_COUNT	754225
+SHUFFLE	COPY_MAP_DATA	48351000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5207408
+SHUFFLE	COMPRESS_BYTE_COUNT	756650
+SHUFFLE	COPY_MAP_DATA	108151000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1238792
+SHUFFLE	COMPRESS_BYTE_COUNT	178451
+SHUFFLE	COPY_MAP_DATA	74456000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5235050
+SHUFFLE	COMPRESS_BYTE_COUNT	761002
+SHUFFLE	COPY_MAP_DATA	47820000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5200064
+SHUFFLE	COMPRESS_BYTE_COUNT	755531
+SHUFFLE	COPY_MAP_DATA	2849328000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1222064
+SHUFFLE	COMPRESS_BYTE_COUNT	176050
+SHUFFLE	COPY_MAP_DATA	648158000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5189558
+SHUFFLE	COMPRESS_BYTE_COUNT	754268
+SHUFFLE	COPY_MAP_DATA	168457000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5219648
+SHUFFLE	COMPRESS_BYTE_COUNT	758792
+SHUFFLE	COPY_MAP_DATA	11430378000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1231448
+SHUFFLE	COMPRESS_BYTE_COUNT	177346
+SHUFFLE	COPY_MAP_DATA	28313000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5204960
+SHUFFLE	COMPRESS_BYTE_COUNT	756846
+SHUFFLE	COPY_MAP_DATA	132319000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5230562
+SHUFFLE	COMPRESS_BYTE_COUNT	760631
+SHUFFLE	COPY_MAP_DATA	70708000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5199146
+SHUFFLE	COMPRESS_BYTE_COUNT	755851
+SHUFFLE	COPY_MAP_DATA	6796249516
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5220158
+SHUFFLE	COMPRESS_BYTE_COUNT	759077
+SHUFFLE	COPY_MAP_DATA	49522000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5196800
+SHUFFLE	COMPRESS_BYTE_COUNT	755394
+SHUFFLE	COPY_MAP_DATA	103998000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5193536
+SHUFFLE	COMPRESS_BYTE_COUNT	754970
+SHUFFLE	COPY_MAP_DATA	46935000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5200676
+SHUFFLE	COMPRESS_BYTE_COUNT	756033
+SHUFFLE	COPY_MAP_DATA	128539000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1204826
+SHUFFLE	COMPRESS_BYTE_COUNT	173675
+SHUFFLE	COPY_MAP_DATA	172127000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5240660
+SHUFFLE	COMPRESS_BYTE_COUNT	761752
+SHUFFLE	COPY_MAP_DATA	77972000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5203838
+SHUFFLE	COMPRESS_BYTE_COUNT	756730
+SHUFFLE	COPY_MAP_DATA	164112000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1218290
+SHUFFLE	COMPRESS_BYTE_COUNT	175512
+SHUFFLE	COPY_MAP_DATA	13047000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5207510
+SHUFFLE	COMPRESS_BYTE_COUNT	756937
+SHUFFLE	COPY_MAP_DATA	47708000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5191700
+SHUFFLE	COMPRESS_BYTE_COUNT	754463
+SHUFFLE	COPY_MAP_DATA	48933000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5226788
+SHUFFLE	COMPRESS_BYTE_COUNT	759568
+SHUFFLE	COPY_MAP_DATA	1573239000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5210978
+SHUFFLE	COMPRESS_BYTE_COUNT	757502
+SHUFFLE	COPY_MAP_DATA	45096000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5185070
+SHUFFLE	COMPRESS_BYTE_COUNT	754015
+SHUFFLE	COPY_MAP_DATA	46373000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5216588
+SHUFFLE	COMPRESS_BYTE_COUNT	758612
+SHUFFLE	COPY_MAP_DATA	47134000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5235866
+SHUFFLE	COMPRESS_BYTE_COUNT	761013
+SHUFFLE	COPY_MAP_DATA	348886000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5179358
+SHUFFLE	COMPRESS_BYTE_COUNT	752954
+SHUFFLE	COPY_MAP_DATA	5231385000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1213088
+SHUFFLE	COMPRESS_BYTE_COUNT	174856
+SHUFFLE	COPY_MAP_DATA	14093000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5250146
+SHUFFLE	COMPRESS_BYTE_COUNT	762871
+SHUFFLE	COPY_MAP_DATA	428621000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5182724
+SHUFFLE	COMPRESS_BYTE_COUNT	753604
+SHUFFLE	COPY_MAP_DATA	5485969000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1208702
+SHUFFLE	COMPRESS_BYTE_COUNT	174204
+SHUFFLE	COPY_MAP_DATA	61938000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1217780
+SHUFFLE	COMPRESS_BYTE_COUNT	175475
+SHUFFLE	COPY_MAP_DATA	869064000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5204756
+SHUFFLE	COMPRESS_BYTE_COUNT	756568
+SHUFFLE	COPY_MAP_DATA	118442000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5184662
+SHUFFLE	COMPRESS_BYTE_COUNT	753597
+SHUFFLE	COPY_MAP_DATA	3246988000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5212202
+SHUFFLE	COMPRESS_BYTE_COUNT	757437
+SHUFFLE	COPY_MAP_DATA	234984000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5212814
+SHUFFLE	COMPRESS_BYTE_COUNT	757648
+SHUFFLE	COPY_MAP_DATA	46892000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1237772
+SHUFFLE	COMPRESS_BYTE_COUNT	178304
+SHUFFLE	COPY_MAP_DATA	3802319000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5210570
+SHUFFLE	COMPRESS_BYTE_COUNT	757508
+SHUFFLE	COPY_MAP_DATA	14362271243
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5205776
+SHUFFLE	COMPRESS_BYTE_COUNT	756877
+SHUFFLE	COPY_MAP_DATA	166405000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1221248
+SHUFFLE	COMPRESS_BYTE_COUNT	175931
+SHUFFLE	COPY_MAP_DATA	33392000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5230970
+SHUFFLE	COMPRESS_BYTE_COUNT	760218
+SHUFFLE	COPY_MAP_DATA	4194247000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5197004
+SHUFFLE	COMPRESS_BYTE_COUNT	755705
+SHUFFLE	COPY_MAP_DATA	48533000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5181194
+SHUFFLE	COMPRESS_BYTE_COUNT	752978
+SHUFFLE	COPY_MAP_DATA	115856000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5198432
+SHUFFLE	COMPRESS_BYTE_COUNT	755438
+SHUFFLE	COPY_MAP_DATA	904732000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1227470
+SHUFFLE	COMPRESS_BYTE_COUNT	176857
+SHUFFLE	COPY_MAP_DATA	12567000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5233520
+SHUFFLE	COMPRESS_BYTE_COUNT	760810
+SHUFFLE	COPY_MAP_DATA	117534000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1234610
+SHUFFLE	COMPRESS_BYTE_COUNT	177735
+SHUFFLE	COPY_MAP_DATA	22671000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5155592
+SHUFFLE	COMPRESS_BYTE_COUNT	749863
+SHUFFLE	COPY_MAP_DATA	53757000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5235560
+SHUFFLE	COMPRESS_BYTE_COUNT	760735
+SHUFFLE	COPY_MAP_DATA	93258000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1208600
+SHUFFLE	COMPRESS_BYTE_COUNT	174229
+SHUFFLE	COPY_MAP_DATA	184613000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5178338
+SHUFFLE	COMPRESS_BYTE_COUNT	752596
+SHUFFLE	COPY_MAP_DATA	283757000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1230020
+SHUFFLE	COMPRESS_BYTE_COUNT	177210
+SHUFFLE	COPY_MAP_DATA	141602000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5266772
+SHUFFLE	COMPRESS_BYTE_COUNT	765403
+SHUFFLE	COPY_MAP_DATA	46542000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1230836
+SHUFFLE	COMPRESS_BYTE_COUNT	177227
+SHUFFLE	COPY_MAP_DATA	109342000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1213394
+SHUFFLE	COMPRESS_BYTE_COUNT	174863
+SHUFFLE	COPY_MAP_DATA	13860000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1237772
+SHUFFLE	COMPRESS_BYTE_COUNT	178380
+SHUFFLE	COPY_MAP_DATA	39635000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1243178
+SHUFFLE	COMPRESS_BYTE_COUNT	178992
+SHUFFLE	COPY_MAP_DATA	13650000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1191056
+SHUFFLE	COMPRESS_BYTE_COUNT	171684
+SHUFFLE	COPY_MAP_DATA	61705000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1221758
+SHUFFLE	COMPRESS_BYTE_COUNT	176045
+SHUFFLE	COPY_MAP_DATA	252647000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5173034
+SHUFFLE	COMPRESS_BYTE_COUNT	752283
+SHUFFLE	COPY_MAP_DATA	194886000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1234610
+SHUFFLE	COMPRESS_BYTE_COUNT	177868
+SHUFFLE	COPY_MAP_DATA	13894000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5214854
+SHUFFLE	COMPRESS_BYTE_COUNT	758182
+SHUFFLE	COPY_MAP_DATA	1534206000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1218800
+SHUFFLE	COMPRESS_BYTE_COUNT	175729
+SHUFFLE	COPY_MAP_DATA	64345000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5190884
+SHUFFLE	COMPRESS_BYTE_COUNT	754400
+SHUFFLE	COPY_MAP_DATA	85374000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5171810
+SHUFFLE	COMPRESS_BYTE_COUNT	752190
+SHUFFLE	COPY_MAP_DATA	108097000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5227502
+SHUFFLE	COMPRESS_BYTE_COUNT	759609
+SHUFFLE	COPY_MAP_DATA	47295000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5192108
+SHUFFLE	COMPRESS_BYTE_COUNT	755034
+SHUFFLE	COPY_MAP_DATA	119011000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1223084
+SHUFFLE	COMPRESS_BYTE_COUNT	176268
+SHUFFLE	COPY_MAP_DATA	11740053000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1218800
+SHUFFLE	COMPRESS_BYTE_COUNT	175672
+SHUFFLE	COPY_MAP_DATA	30343000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5198534
+SHUFFLE	COMPRESS_BYTE_COUNT	755448
+SHUFFLE	COPY_MAP_DATA	107693000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5215568
+SHUFFLE	COMPRESS_BYTE_COUNT	757813
+SHUFFLE	COPY_MAP_DATA	113794000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1234712
+SHUFFLE	COMPRESS_BYTE_COUNT	177877
+SHUFFLE	COPY_MAP_DATA	12915000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1216760
+SHUFFLE	COMPRESS_BYTE_COUNT	175248
+SHUFFLE	COPY_MAP_DATA	21292000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1219922
+SHUFFLE	COMPRESS_BYTE_COUNT	175862
+SHUFFLE	COPY_MAP_DATA	36791000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1233386
+SHUFFLE	COMPRESS_BYTE_COUNT	177753
+SHUFFLE	COPY_MAP_DATA	44553000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1240730
+SHUFFLE	COMPRESS_BYTE_COUNT	178773
+SHUFFLE	COPY_MAP_DATA	100805000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1213496
+SHUFFLE	COMPRESS_BYTE_COUNT	174916
+SHUFFLE	COPY_MAP_DATA	170189000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1218902
+SHUFFLE	COMPRESS_BYTE_COUNT	175737
+SHUFFLE	COPY_MAP_DATA	4590170000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1228796
+SHUFFLE	COMPRESS_BYTE_COUNT	176905
+SHUFFLE	COPY_MAP_DATA	14040000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1208090
+SHUFFLE	COMPRESS_BYTE_COUNT	174019
+SHUFFLE	COPY_MAP_DATA	14085000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1225532
+SHUFFLE	COMPRESS_BYTE_COUNT	176553
+SHUFFLE	COPY_MAP_DATA	11715000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5190068
+SHUFFLE	COMPRESS_BYTE_COUNT	754211
+SHUFFLE	COPY_MAP_DATA	129037000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1251338
+SHUFFLE	COMPRESS_BYTE_COUNT	180102
+SHUFFLE	COPY_MAP_DATA	94693000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5190476
+SHUFFLE	COMPRESS_BYTE_COUNT	754558
+SHUFFLE	COPY_MAP_DATA	11697266834
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1232978
+SHUFFLE	COMPRESS_BYTE_COUNT	177543
+SHUFFLE	COPY_MAP_DATA	190957000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5206796
+SHUFFLE	COMPRESS_BYTE_COUNT	757064
+SHUFFLE	COPY_MAP_DATA	179093000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1223696
+SHUFFLE	COMPRESS_BYTE_COUNT	176365
+SHUFFLE	COPY_MAP_DATA	109988000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1226144
+SHUFFLE	COMPRESS_BYTE_COUNT	176788
+SHUFFLE	COPY_MAP_DATA	14296000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1220024
+SHUFFLE	COMPRESS_BYTE_COUNT	175688
+SHUFFLE	COPY_MAP_DATA	12933000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1231244
+SHUFFLE	COMPRESS_BYTE_COUNT	177356
+SHUFFLE	COPY_MAP_DATA	79148000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1213496
+SHUFFLE	COMPRESS_BYTE_COUNT	174884
+SHUFFLE	COPY_MAP_DATA	12903000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1233080
+SHUFFLE	COMPRESS_BYTE_COUNT	177641
+SHUFFLE	COPY_MAP_DATA	12881000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1235426
+SHUFFLE	COMPRESS_BYTE_COUNT	178017
+SHUFFLE	COPY_MAP_DATA	14172000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1218902
+SHUFFLE	COMPRESS_BYTE_COUNT	175578
+SHUFFLE	COPY_MAP_DATA	2511598000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5223422
+SHUFFLE	COMPRESS_BYTE_COUNT	758829
+SHUFFLE	COPY_MAP_DATA	49262000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5198432
+SHUFFLE	COMPRESS_BYTE_COUNT	755898
+SHUFFLE	COPY_MAP_DATA	353062000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1206254
+SHUFFLE	COMPRESS_BYTE_COUNT	173820
+SHUFFLE	COPY_MAP_DATA	18647000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1235834
+SHUFFLE	COMPRESS_BYTE_COUNT	177956
+SHUFFLE	COPY_MAP_DATA	12990000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1237568
+SHUFFLE	COMPRESS_BYTE_COUNT	178277
+SHUFFLE	COPY_MAP_DATA	12529000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1243790
+SHUFFLE	COMPRESS_BYTE_COUNT	179213
+SHUFFLE	COPY_MAP_DATA	91457000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1231550
+SHUFFLE	COMPRESS_BYTE_COUNT	177394
+SHUFFLE	COPY_MAP_DATA	120232000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1225430
+SHUFFLE	COMPRESS_BYTE_COUNT	176641
+SHUFFLE	COPY_MAP_DATA	52148000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5239334
+SHUFFLE	COMPRESS_BYTE_COUNT	761716
+SHUFFLE	COPY_MAP_DATA	47597000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1217372
+SHUFFLE	COMPRESS_BYTE_COUNT	175341
+SHUFFLE	COPY_MAP_DATA	314186000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5168546
+SHUFFLE	COMPRESS_BYTE_COUNT	751050
+SHUFFLE	COPY_MAP_DATA	185258000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1239098
+SHUFFLE	COMPRESS_BYTE_COUNT	178418
+SHUFFLE	COPY_MAP_DATA	12153000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1227980
+SHUFFLE	COMPRESS_BYTE_COUNT	176824
+SHUFFLE	COPY_MAP_DATA	69270000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1231652
+SHUFFLE	COMPRESS_BYTE_COUNT	177376
+SHUFFLE	COPY_MAP_DATA	11985000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5247902
+SHUFFLE	COMPRESS_BYTE_COUNT	762659
+SHUFFLE	COPY_MAP_DATA	45916000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5188844
+SHUFFLE	COMPRESS_BYTE_COUNT	754448
+SHUFFLE	COPY_MAP_DATA	44659000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1247972
+SHUFFLE	COMPRESS_BYTE_COUNT	179727
+SHUFFLE	COPY_MAP_DATA	12971000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1234304
+SHUFFLE	COMPRESS_BYTE_COUNT	177790
+SHUFFLE	COPY_MAP_DATA	2415074000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1220330
+SHUFFLE	COMPRESS_BYTE_COUNT	175984
+SHUFFLE	COPY_MAP_DATA	125888000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1216352
+SHUFFLE	COMPRESS_BYTE_COUNT	175390
+SHUFFLE	COPY_MAP_DATA	50732000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1225022
+SHUFFLE	COMPRESS_BYTE_COUNT	176485
+SHUFFLE	COPY_MAP_DATA	879915000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1234304
+SHUFFLE	COMPRESS_BYTE_COUNT	177846
+SHUFFLE	COPY_MAP_DATA	14010000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1221044
+SHUFFLE	COMPRESS_BYTE_COUNT	175874
+SHUFFLE	COPY_MAP_DATA	33359000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1216148
+SHUFFLE	COMPRESS_BYTE_COUNT	175230
+SHUFFLE	COPY_MAP_DATA	16043000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1243076
+SHUFFLE	COMPRESS_BYTE_COUNT	179056
+SHUFFLE	COPY_MAP_DATA	799630000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1225124
+SHUFFLE	COMPRESS_BYTE_COUNT	176564
+SHUFFLE	COPY_MAP_DATA	13535000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1219718
+SHUFFLE	COMPRESS_BYTE_COUNT	175740
+SHUFFLE	COPY_MAP_DATA	12708000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5211998
+SHUFFLE	COMPRESS_BYTE_COUNT	757450
+SHUFFLE	COPY_MAP_DATA	48759000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1225634
+SHUFFLE	COMPRESS_BYTE_COUNT	176543
+SHUFFLE	COPY_MAP_DATA	14399000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1217270
+SHUFFLE	COMPRESS_BYTE_COUNT	175464
+SHUFFLE	COPY_MAP_DATA	13103000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1218494
+SHUFFLE	COMPRESS_BYTE_COUNT	175647
+SHUFFLE	COPY_MAP_DATA	12282000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1221554
+SHUFFLE	COMPRESS_BYTE_COUNT	175865
+SHUFFLE	COPY_MAP_DATA	14652000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1227266
+SHUFFLE	COMPRESS_BYTE_COUNT	176873
+SHUFFLE	COPY_MAP_DATA	112197000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1219718
+SHUFFLE	COMPRESS_BYTE_COUNT	175778
+SHUFFLE	COPY_MAP_DATA	1504662000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1231040
+SHUFFLE	COMPRESS_BYTE_COUNT	177356
+SHUFFLE	COPY_MAP_DATA	12650000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1215638
+SHUFFLE	COMPRESS_BYTE_COUNT	175206
+SHUFFLE	COPY_MAP_DATA	12282000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1223288
+SHUFFLE	COMPRESS_BYTE_COUNT	176177
+SHUFFLE	COPY_MAP_DATA	11707000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1238996
+SHUFFLE	COMPRESS_BYTE_COUNT	178544
+SHUFFLE	COPY_MAP_DATA	11695000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1231448
+SHUFFLE	COMPRESS_BYTE_COUNT	177317
+SHUFFLE	COPY_MAP_DATA	13892000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1216046
+SHUFFLE	COMPRESS_BYTE_COUNT	175221
+SHUFFLE	COPY_MAP_DATA	11930000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1217168
+SHUFFLE	COMPRESS_BYTE_COUNT	175368
+SHUFFLE	COPY_MAP_DATA	13848000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1222982
+SHUFFLE	COMPRESS_BYTE_COUNT	176225
+SHUFFLE	COPY_MAP_DATA	12234000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1207478
+SHUFFLE	COMPRESS_BYTE_COUNT	173907
+SHUFFLE	COPY_MAP_DATA	12013000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1224614
+SHUFFLE	COMPRESS_BYTE_COUNT	176417
+SHUFFLE	COPY_MAP_DATA	15886000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1236446
+SHUFFLE	COMPRESS_BYTE_COUNT	178080
+SHUFFLE	COPY_MAP_DATA	13418000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1226348
+SHUFFLE	COMPRESS_BYTE_COUNT	176588
+SHUFFLE	COPY_MAP_DATA	12807000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1209416
+SHUFFLE	COMPRESS_BYTE_COUNT	174312
+SHUFFLE	COPY_MAP_DATA	12642000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1227980
+SHUFFLE	COMPRESS_BYTE_COUNT	176865
+SHUFFLE	COPY_MAP_DATA	127623000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1220840
+SHUFFLE	COMPRESS_BYTE_COUNT	175853
+SHUFFLE	COPY_MAP_DATA	27705000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1235528
+SHUFFLE	COMPRESS_BYTE_COUNT	177864
+SHUFFLE	COPY_MAP_DATA	12332000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1214720
+SHUFFLE	COMPRESS_BYTE_COUNT	174989
+SHUFFLE	COPY_MAP_DATA	23786000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1212884
+SHUFFLE	COMPRESS_BYTE_COUNT	174793
+SHUFFLE	COPY_MAP_DATA	12351000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1248686
+SHUFFLE	COMPRESS_BYTE_COUNT	179782
+SHUFFLE	COPY_MAP_DATA	14375000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1231142
+SHUFFLE	COMPRESS_BYTE_COUNT	177372
+SHUFFLE	COPY_MAP_DATA	356800000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1222982
+SHUFFLE	COMPRESS_BYTE_COUNT	176229
+SHUFFLE	COPY_MAP_DATA	62125000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1208090
+SHUFFLE	COMPRESS_BYTE_COUNT	174150
+SHUFFLE	COPY_MAP_DATA	12255000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1230734
+SHUFFLE	COMPRESS_BYTE_COUNT	177180
+SHUFFLE	COPY_MAP_DATA	12633000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1223390
+SHUFFLE	COMPRESS_BYTE_COUNT	176334
+SHUFFLE	COPY_MAP_DATA	13722000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1218698
+SHUFFLE	COMPRESS_BYTE_COUNT	175472
+SHUFFLE	COPY_MAP_DATA	12344000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1224002
+SHUFFLE	COMPRESS_BYTE_COUNT	176319
+SHUFFLE	COPY_MAP_DATA	12578000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1220840
+SHUFFLE	COMPRESS_BYTE_COUNT	175771
+SHUFFLE	COPY_MAP_DATA	12132000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1226246
+SHUFFLE	COMPRESS_BYTE_COUNT	176657
+SHUFFLE	COPY_MAP_DATA	33436000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1234610
+SHUFFLE	COMPRESS_BYTE_COUNT	177859
+SHUFFLE	COPY_MAP_DATA	14648000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	295661064258
+MERGE	READ_WRITE	286068794258
+MERGE	READ_WRITE_COUNT	8
+MERGE	COMBINE	0
+MERGE	WRITE	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	6917488000
+SORT	READ_WRITE	6765958000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	263531280
+REDUCE	SETUP	340000
+REDUCE	SETUP_MEM	263531280
+REDUCE	CLEANUP	46000
+REDUCE	CLEANUP_MEM	67932968
+REDUCE	TOTAL_RUN	277481157265
+REDUCE	READ	40348504680
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	158424838945
+REDUCE	WRITE	101047345775
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	114145910
+REDUCE	VALUE_BYTE_COUNT	1004484008
+REDUCE	REDUCE_MEM	67932968
+REDUCE	WRITE	1464381000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	832145890777
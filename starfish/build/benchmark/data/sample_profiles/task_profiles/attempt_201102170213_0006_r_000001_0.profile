@@ -0,0 +1,1229 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5076542
+SHUFFLE	COMPRESS_BYTE_COUNT	744655
+SHUFFLE	COPY_MAP_DATA	346847000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5070524
+SHUFFLE	COMPRESS_BYTE_COUNT	743566
+SHUFFLE	COPY_MAP_DATA	67571000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5054204
+SHUFFLE	COMPRESS_BYTE_COUNT	741311
+SHUFFLE	COPY_MAP_DATA	82870000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5119790
+SHUFFLE	COMPRESS_BYTE_COUNT	751336
+SHUFFLE	COPY_MAP_DATA	68488000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5090822
+SHUFFLE	COMPRESS_BYTE_COUNT	746532
+SHUFFLE	COPY_MAP_DATA	251257000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5066138
+SHUFFLE	COMPRESS_BYTE_COUNT	743649
+SHUFFLE	COPY_MAP_DATA	994881000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5103164
+SHUFFLE	COMPRESS_BYTE_COUNT	748306
+SHUFFLE	COPY_MAP_DATA	66819000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5054612
+SHUFFLE	COMPRESS_BYTE_COUNT	741857
+SHUFFLE	COPY_MAP_DATA	71024000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5117648
+SHUFFLE	COMPRESS_BYTE_COUNT	750740
+SHUFFLE	COPY_MAP_DATA	129401000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5052980
+SHUFFLE	COMPRESS_BYTE_COUNT	741635
+SHUFFLE	COPY_MAP_DATA	48162000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5070830
+SHUFFLE	COMPRESS_BYTE_COUNT	743472
+SHUFFLE	COPY_MAP_DATA	107636000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5089904
+SHUFFLE	COMPRESS_BYTE_COUNT	745811
+SHUFFLE	COPY_MAP_DATA	99196000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5068994
+SHUFFLE	COMPRESS_BYTE_COUNT	743696
+SHUFFLE	COPY_MAP_DATA	76945000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5099798
+SHUFFLE	COMPRESS_BYTE_COUNT	747786
+SHUFFLE	COPY_MAP_DATA	171167000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5061752
+SHUFFLE	COMPRESS_BYTE_COUNT	742163
+SHUFFLE	COPY_MAP_DATA	66275000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5056856
+SHUFFLE	COMPRESS_BYTE_COUNT	741735
+SHUFFLE	COPY_MAP_DATA	229400000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5072360
+SHUFFLE	COMPRESS_BYTE_COUNT	743884
+SHUFFLE	COPY_MAP_DATA	193658000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5091434
+SHUFFLE	COMPRESS_BYTE_COUNT	747135
+SHUFFLE	COPY_MAP_DATA	45450000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5049308
+SHUFFLE	COMPRESS_BYTE_COUNT	740049
+SHUFFLE	COPY_MAP_DATA	151847000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5066240
+SHUFFLE	COMPRESS_BYTE_COUNT	743419
+SHUFFLE	COPY_MAP_DATA	43905000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5050022
+SHUFFLE	COMPRESS_BYTE_COUNT	740899
+SHUFFLE	COPY_MAP_DATA	72041000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5053796
+SHUFFLE	COMPRESS_BYTE_COUNT	741011
+SHUFFLE	COPY_MAP_DATA	41753000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5105408
+SHUFFLE	COMPRESS_BYTE_COUNT	749001
+SHUFFLE	COPY_MAP_DATA	45959000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5026256
+SHUFFLE	COMPRESS_BYTE_COUNT	737702
+SHUFFLE	COPY_MAP_DATA	216401000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5035232
+SHUFFLE	COMPRESS_BYTE_COUNT	738683
+SHUFFLE	COPY_MAP_DATA	44095000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5090414
+SHUFFLE	COMPRESS_BYTE_COUNT	746798
+SHUFFLE	COPY_MAP_DATA	54690000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5115506
+SHUFFLE	COMPRESS_BYTE_COUNT	750351
+SHUFFLE	COPY_MAP_DATA	86230000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5112752
+SHUFFLE	COMPRESS_BYTE_COUNT	749897
+SHUFFLE	COPY_MAP_DATA	82555000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5075828
+SHUFFLE	COMPRESS_BYTE_COUNT	744643
+SHUFFLE	COPY_MAP_DATA	339439000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5081642
+SHUFFLE	COMPRESS_BYTE_COUNT	745886
+SHUFFLE	COPY_MAP_DATA	54841000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5046860
+SHUFFLE	COMPRESS_BYTE_COUNT	740621
+SHUFFLE	COPY_MAP_DATA	49278000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5099492
+SHUFFLE	COMPRESS_BYTE_COUNT	747603
+SHUFFLE	COPY_MAP_DATA	75694000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5112854
+SHUFFLE	COMPRESS_BYTE_COUNT	749959
+SHUFFLE	COPY_MAP_DATA	324994000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5062262
+SHUFFLE	COMPRESS_BYTE_COUNT	742817
+SHUFFLE	COPY_MAP_DATA	43956000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5081132
+SHUFFLE	COMPRESS_BYTE_COUNT	745225
+SHUFFLE	COPY_MAP_DATA	171308000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5056958
+SHUFFLE	COMPRESS_BYTE_COUNT	741598
+SHUFFLE	COPY_MAP_DATA	46976000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5074706
+SHUFFLE	COMPRESS_BYTE_COUNT	744032
+SHUFFLE	COPY_MAP_DATA	44266000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5062058
+SHUFFLE	COMPRESS_BYTE_COUNT	742538
+SHUFFLE	COPY_MAP_DATA	414586000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5066240
+SHUFFLE	COMPRESS_BYTE_COUNT	743432
+SHUFFLE	COPY_MAP_DATA	171705000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5053388
+SHUFFLE	COMPRESS_BYTE_COUNT	741447
+SHUFFLE	COPY_MAP_DATA	153711000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5077154
+SHUFFLE	COMPRESS_BYTE_COUNT	744759
+SHUFFLE	COPY_MAP_DATA	114230000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5052776
+SHUFFLE	COMPRESS_BYTE_COUNT	741130
+SHUFFLE	COPY_MAP_DATA	74905000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5105204
+SHUFFLE	COMPRESS_BYTE_COUNT	748900
+SHUFFLE	COPY_MAP_DATA	581308000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5084702
+SHUFFLE	COMPRESS_BYTE_COUNT	745738
+SHUFFLE	COPY_MAP_DATA	52151000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5086436
+SHUFFLE	COMPRESS_BYTE_COUNT	746254
+SHUFFLE	COPY_MAP_DATA	3824683000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5067974
+SHUFFLE	COMPRESS_BYTE_COUNT	743592
+SHUFFLE	COPY_MAP_DATA	191977000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5075420
+SHUFFLE	COMPRESS_BYTE_COUNT	744644
+SHUFFLE	COPY_MAP_DATA	46664000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5053898
+SHUFFLE	COMPRESS_BYTE_COUNT	741132
+SHUFFLE	COPY_MAP_DATA	1875930000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5045942
+SHUFFLE	COMPRESS_BYTE_COUNT	740066
+SHUFFLE	COPY_MAP_DATA	59281000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5061854
+SHUFFLE	COMPRESS_BYTE_COUNT	742504
+SHUFFLE	COPY_MAP_DATA	55239000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5078378
+SHUFFLE	COMPRESS_BYTE_COUNT	744923
+SHUFFLE	COPY_MAP_DATA	55308000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5098778
+SHUFFLE	COMPRESS_BYTE_COUNT	748236
+SHUFFLE	COPY_MAP_DATA	165638000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5137130
+SHUFFLE	COMPRESS_BYTE_COUNT	753629
+SHUFFLE	COPY_MAP_DATA	179885000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5074400
+SHUFFLE	COMPRESS_BYTE_COUNT	743993
+SHUFFLE	COPY_MAP_DATA	412188000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5117342
+SHUFFLE	COMPRESS_BYTE_COUNT	750269
+SHUFFLE	COPY_MAP_DATA	45010000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5073992
+SHUFFLE	COMPRESS_BYTE_COUNT	744347
+SHUFFLE	COPY_MAP_DATA	6207009000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5100818
+SHUFFLE	COMPRESS_BYTE_COUNT	748158
+SHUFFLE	COPY_MAP_DATA	45535000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5062568
+SHUFFLE	COMPRESS_BYTE_COUNT	738141
+SHUFFLE	COPY_MAP_DATA	44229000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5065934
+SHUFFLE	COMPRESS_BYTE_COUNT	742920
+SHUFFLE	COPY_MAP_DATA	64534000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5074196
+SHUFFLE	COMPRESS_BYTE_COUNT	744604
+SHUFFLE	COPY_MAP_DATA	1580601000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5071952
+SHUFFLE	COMPRESS_BYTE_COUNT	744306
+SHUFFLE	COPY_MAP_DATA	189846000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5109998
+SHUFFLE	COMPRESS_BYTE_COUNT	749453
+SHUFFLE	COPY_MAP_DATA	270039000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5083376
+SHUFFLE	COMPRESS_BYTE_COUNT	745305
+SHUFFLE	COPY_MAP_DATA	43722000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5127440
+SHUFFLE	COMPRESS_BYTE_COUNT	751637
+SHUFFLE	COPY_MAP_DATA	158461000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5093168
+SHUFFLE	COMPRESS_BYTE_COUNT	747078
+SHUFFLE	COPY_MAP_DATA	44257000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5066444
+SHUFFLE	COMPRESS_BYTE_COUNT	743276
+SHUFFLE	COPY_MAP_DATA	45418000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5091128
+SHUFFLE	COMPRESS_BYTE_COUNT	746334
+SHUFFLE	COPY_MAP_DATA	801648000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5073686
+SHUFFLE	COMPRESS_BYTE_COUNT	743829
+SHUFFLE	COPY_MAP_DATA	285771000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5067056
+SHUFFLE	COMPRESS_BYTE_COUNT	743714
+SHUFFLE	COPY_MAP_DATA	118860000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5063486
+SHUFFLE	COMPRESS_BYTE_COUNT	743044
+SHUFFLE	COPY_MAP_DATA	1000322000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5074400
+SHUFFLE	COMPRESS_BYTE_COUNT	744207
+SHUFFLE	COPY_MAP_DATA	74869000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5065526
+SHUFFLE	COMPRESS_BYTE_COUNT	743220
+SHUFFLE	COPY_MAP_DATA	1228411000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5062976
+SHUFFLE	COMPRESS_BYTE_COUNT	742705
+SHUFFLE	COPY_MAP_DATA	43988000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5037170
+SHUFFLE	COMPRESS_BYTE_COUNT	739330
+SHUFFLE	COPY_MAP_DATA	5795084000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5064914
+SHUFFLE	COMPRESS_BYTE_COUNT	742375
+SHUFFLE	COPY_MAP_DATA	45489000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5099492
+SHUFFLE	COMPRESS_BYTE_COUNT	747737
+SHUFFLE	COPY_MAP_DATA	1674082000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5080418
+SHUFFLE	COMPRESS_BYTE_COUNT	745413
+SHUFFLE	COPY_MAP_DATA	43596000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5064200
+SHUFFLE	COMPRESS_BYTE_COUNT	742830
+SHUFFLE	COPY_MAP_DATA	5682164000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5072666
+SHUFFLE	COMPRESS_BYTE_COUNT	744380
+SHUFFLE	COPY_MAP_DATA	1438200000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5115098
+SHUFFLE	COMPRESS_BYTE_COUNT	750411
+SHUFFLE	COPY_MAP_DATA	75866000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5101532
+SHUFFLE	COMPRESS_BYTE_COUNT	748378
+SHUFFLE	COPY_MAP_DATA	45028000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5052674
+SHUFFLE	COMPRESS_BYTE_COUNT	741065
+SHUFFLE	COPY_MAP_DATA	44544000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5083784
+SHUFFLE	COMPRESS_BYTE_COUNT	745418
+SHUFFLE	COPY_MAP_DATA	54984000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5069810
+SHUFFLE	COMPRESS_BYTE_COUNT	743971
+SHUFFLE	COPY_MAP_DATA	7420552000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5065016
+SHUFFLE	COMPRESS_BYTE_COUNT	742919
+SHUFFLE	COPY_MAP_DATA	108171000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5121116
+SHUFFLE	COMPRESS_BYTE_COUNT	750966
+SHUFFLE	COPY_MAP_DATA	114875000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5082254
+SHUFFLE	COMPRESS_BYTE_COUNT	745403
+SHUFFLE	COPY_MAP_DATA	58516000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5040026
+SHUFFLE	COMPRESS_BYTE_COUNT	739312
+SHUFFLE	COPY_MAP_DATA	8992786000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5052572
+SHUFFLE	COMPRESS_BYTE_COUNT	741206
+SHUFFLE	COPY_MAP_DATA	90533000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5123054
+SHUFFLE	COMPRESS_BYTE_COUNT	751607
+SHUFFLE	COPY_MAP_DATA	121950000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5066342
+SHUFFLE	COMPRESS_BYTE_COUNT	743373
+SHUFFLE	COPY_MAP_DATA	62422000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5070728
+SHUFFLE	COMPRESS_BYTE_COUNT	743642
+SHUFFLE	COPY_MAP_DATA	3830017000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5065628
+SHUFFLE	COMPRESS_BYTE_COUNT	743048
+SHUFFLE	COPY_MAP_DATA	3375339000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5093882
+SHUFFLE	COMPRESS_BYTE_COUNT	747199
+SHUFFLE	COPY_MAP_DATA	45002000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5085722
+SHUFFLE	COMPRESS_BYTE_COUNT	746109
+SHUFFLE	COPY_MAP_DATA	53375000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5103062
+SHUFFLE	COMPRESS_BYTE_COUNT	748817
+SHUFFLE	COPY_MAP_DATA	343416000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5086232
+SHUFFLE	COMPRESS_BYTE_COUNT	745995
+SHUFFLE	COPY_MAP_DATA	95137000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5090210
+SHUFFLE	COMPRESS_BYTE_COUNT	746245
+SHUFFLE	COPY_MAP_DATA	1561151000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5090006
+SHUFFLE	COMPRESS_BYTE_COUNT	746591
+SHUFFLE	COPY_MAP_DATA	52257000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5085518
+SHUFFLE	COMPRESS_BYTE_COUNT	745701
+SHUFFLE	COPY_MAP_DATA	761059000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5114384
+SHUFFLE	COMPRESS_BYTE_COUNT	749880
+SHUFFLE	COPY_MAP_DATA	250206000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5097044
+SHUFFLE	COMPRESS_BYTE_COUNT	747750
+SHUFFLE	COPY_MAP_DATA	3112134000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5069810
+SHUFFLE	COMPRESS_BYTE_COUNT	743998
+SHUFFLE	COPY_MAP_DATA	164745000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5055632
+SHUFFLE	COMPRESS_BYTE_COUNT	741595
+SHUFFLE	COPY_MAP_DATA	45291000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5076644
+SHUFFLE	COMPRESS_BYTE_COUNT	744289
+SHUFFLE	COPY_MAP_DATA	150751000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5056958
+SHUFFLE	COMPRESS_BYTE_COUNT	741948
+SHUFFLE	COPY_MAP_DATA	1461244000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5093882
+SHUFFLE	COMPRESS_BYTE_COUNT	747341
+SHUFFLE	COPY_MAP_DATA	2326319000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5050226
+SHUFFLE	COMPRESS_BYTE_COUNT	740690
+SHUFFLE	COPY_MAP_DATA	90884000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5091740
+SHUFFLE	COMPRESS_BYTE_COUNT	746957
+SHUFFLE	COPY_MAP_DATA	972789000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5071544
+SHUFFLE	COMPRESS_BYTE_COUNT	743906
+SHUFFLE	COPY_MAP_DATA	531567000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5106020
+SHUFFLE	COMPRESS_BYTE_COUNT	748762
+SHUFFLE	COPY_MAP_DATA	60088000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5107550
+SHUFFLE	COMPRESS_BYTE_COUNT	749237
+SHUFFLE	COPY_MAP_DATA	126158000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5040332
+SHUFFLE	COMPRESS_BYTE_COUNT	738992
+SHUFFLE	COPY_MAP_DATA	57264000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5046554
+SHUFFLE	COMPRESS_BYTE_COUNT	740560
+SHUFFLE	COPY_MAP_DATA	186200000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5100308
+SHUFFLE	COMPRESS_BYTE_COUNT	747913
+SHUFFLE	COPY_MAP_DATA	465575000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5091230
+SHUFFLE	COMPRESS_BYTE_COUNT	747238
+SHUFFLE	COPY_MAP_DATA	4235503000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5077562
+SHUFFLE	COMPRESS_BYTE_COUNT	745094
+SHUFFLE	COPY_MAP_DATA	44788000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5084498
+SHUFFLE	COMPRESS_BYTE_COUNT	745252
+SHUFFLE	COPY_MAP_DATA	66185000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5096330
+SHUFFLE	COMPRESS_BYTE_COUNT	747138
+SHUFFLE	COPY_MAP_DATA	46083000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5054510
+SHUFFLE	COMPRESS_BYTE_COUNT	741979
+SHUFFLE	COPY_MAP_DATA	2332695000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5093882
+SHUFFLE	COMPRESS_BYTE_COUNT	747560
+SHUFFLE	COPY_MAP_DATA	5445690000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5097350
+SHUFFLE	COMPRESS_BYTE_COUNT	747403
+SHUFFLE	COPY_MAP_DATA	468248000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5068076
+SHUFFLE	COMPRESS_BYTE_COUNT	743661
+SHUFFLE	COPY_MAP_DATA	205421000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5062262
+SHUFFLE	COMPRESS_BYTE_COUNT	742511
+SHUFFLE	COPY_MAP_DATA	936330000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5058896
+SHUFFLE	COMPRESS_BYTE_COUNT	741769
+SHUFFLE	COPY_MAP_DATA	47545000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5049104
+SHUFFLE	COMPRESS_BYTE_COUNT	740488
+SHUFFLE	COPY_MAP_DATA	79966000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5038190
+SHUFFLE	COMPRESS_BYTE_COUNT	739383
+SHUFFLE	COPY_MAP_DATA	43716000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5094596
+SHUFFLE	COMPRESS_BYTE_COUNT	747212
+SHUFFLE	COPY_MAP_DATA	579465000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5064608
+SHUFFLE	COMPRESS_BYTE_COUNT	743069
+SHUFFLE	COPY_MAP_DATA	547343000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5080316
+SHUFFLE	COMPRESS_BYTE_COUNT	745299
+SHUFFLE	COPY_MAP_DATA	446799000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5065934
+SHUFFLE	COMPRESS_BYTE_COUNT	743328
+SHUFFLE	COPY_MAP_DATA	162008000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5094800
+SHUFFLE	COMPRESS_BYTE_COUNT	746793
+SHUFFLE	COPY_MAP_DATA	62936000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5072462
+SHUFFLE	COMPRESS_BYTE_COUNT	744234
+SHUFFLE	COPY_MAP_DATA	1360484000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5086640
+SHUFFLE	COMPRESS_BYTE_COUNT	746411
+SHUFFLE	COPY_MAP_DATA	109339000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5088578
+SHUFFLE	COMPRESS_BYTE_COUNT	746252
+SHUFFLE	COPY_MAP_DATA	634278000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5068484
+SHUFFLE	COMPRESS_BYTE_COUNT	743259
+SHUFFLE	COPY_MAP_DATA	75979000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5088068
+SHUFFLE	COMPRESS_BYTE_COUNT	739125
+SHUFFLE	COPY_MAP_DATA	42442000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5077664
+SHUFFLE	COMPRESS_BYTE_COUNT	744361
+SHUFFLE	COPY_MAP_DATA	76200000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5049614
+SHUFFLE	COMPRESS_BYTE_COUNT	740237
+SHUFFLE	COPY_MAP_DATA	43758000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5068892
+SHUFFLE	COMPRESS_BYTE_COUNT	743442
+SHUFFLE	COPY_MAP_DATA	3597775000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5108978
+SHUFFLE	COMPRESS_BYTE_COUNT	749616
+SHUFFLE	COPY_MAP_DATA	55598000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5072666
+SHUFFLE	COMPRESS_BYTE_COUNT	743856
+SHUFFLE	COPY_MAP_DATA	44939000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5065934
+SHUFFLE	COMPRESS_BYTE_COUNT	743332
+SHUFFLE	COPY_MAP_DATA	45045000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5090108
+SHUFFLE	COMPRESS_BYTE_COUNT	746227
+SHUFFLE	COPY_MAP_DATA	44691000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1199624
+SHUFFLE	COMPRESS_BYTE_COUNT	174066
+SHUFFLE	COPY_MAP_DATA	2690081000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5054714
+SHUFFLE	COMPRESS_BYTE_COUNT	741074
+SHUFFLE	COPY_MAP_DATA	44549000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5107346
+SHUFFLE	COMPRESS_BYTE_COUNT	748713
+SHUFFLE	COPY_MAP_DATA	45017000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5102552
+SHUFFLE	COMPRESS_BYTE_COUNT	748763
+SHUFFLE	COPY_MAP_DATA	346099000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1183100
+SHUFFLE	COMPRESS_BYTE_COUNT	171802
+SHUFFLE	COPY_MAP_DATA	5287057000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5098982
+SHUFFLE	COMPRESS_BYTE_COUNT	747851
+SHUFFLE	COPY_MAP_DATA	48281000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5066852
+SHUFFLE	COMPRESS_BYTE_COUNT	743576
+SHUFFLE	COPY_MAP_DATA	2114479000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5067362
+SHUFFLE	COMPRESS_BYTE_COUNT	743631
+SHUFFLE	COPY_MAP_DATA	43029000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1208396
+SHUFFLE	COMPRESS_BYTE_COUNT	175452
+SHUFFLE	COPY_MAP_DATA	64109000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5058794
+SHUFFLE	COMPRESS_BYTE_COUNT	742427
+SHUFFLE	COPY_MAP_DATA	97711000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5095514
+SHUFFLE	COMPRESS_BYTE_COUNT	747753
+SHUFFLE	COPY_MAP_DATA	177228000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5069912
+SHUFFLE	COMPRESS_BYTE_COUNT	744045
+SHUFFLE	COPY_MAP_DATA	303385000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5080010
+SHUFFLE	COMPRESS_BYTE_COUNT	744880
+SHUFFLE	COPY_MAP_DATA	42809000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1201256
+SHUFFLE	COMPRESS_BYTE_COUNT	174346
+SHUFFLE	COPY_MAP_DATA	12091000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5032682
+SHUFFLE	COMPRESS_BYTE_COUNT	738092
+SHUFFLE	COPY_MAP_DATA	59165000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5076746
+SHUFFLE	COMPRESS_BYTE_COUNT	744531
+SHUFFLE	COPY_MAP_DATA	175497000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5068178
+SHUFFLE	COMPRESS_BYTE_COUNT	743723
+SHUFFLE	COPY_MAP_DATA	53153000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5068790
+SHUFFLE	COMPRESS_BYTE_COUNT	743167
+SHUFFLE	COPY_MAP_DATA	63063000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1209416
+SHUFFLE	COMPRESS_BYTE_COUNT	175239
+SHUFFLE	COPY_MAP_DATA	300043000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5116628
+SHUFFLE	COMPRESS_BYTE_COUNT	750233
+SHUFFLE	COPY_MAP_DATA	90393000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5089292
+SHUFFLE	COMPRESS_BYTE_COUNT	746264
+SHUFFLE	COPY_MAP_DATA	43629000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5101736
+SHUFFLE	COMPRESS_BYTE_COUNT	748507
+SHUFFLE	COPY_MAP_DATA	679727000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5061548
+SHUFFLE	COMPRESS_BYTE_COUNT	742232
+SHUFFLE	COPY_MAP_DATA	57061000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5086844
+SHUFFLE	COMPRESS_BYTE_COUNT	746311
+SHUFFLE	COPY_MAP_DATA	43213000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5066444
+SHUFFLE	COMPRESS_BYTE_COUNT	743006
+SHUFFLE	COPY_MAP_DATA	64703000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5090516
+SHUFFLE	COMPRESS_BYTE_COUNT	746304
+SHUFFLE	COPY_MAP_DATA	1287156000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5065730
+SHUFFLE	COMPRESS_BYTE_COUNT	743159
+SHUFFLE	COPY_MAP_DATA	50581000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5116628
+SHUFFLE	COMPRESS_BYTE_COUNT	750507
+SHUFFLE	COPY_MAP_DATA	10459593000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1182692
+SHUFFLE	COMPRESS_BYTE_COUNT	171635
+SHUFFLE	COPY_MAP_DATA	26901000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1175654
+SHUFFLE	COMPRESS_BYTE_COUNT	170637
+SHUFFLE	COPY_MAP_DATA	3910615000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1197686
+SHUFFLE	COMPRESS_BYTE_COUNT	173810
+SHUFFLE	COPY_MAP_DATA	11686000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5079908
+SHUFFLE	COMPRESS_BYTE_COUNT	745097
+SHUFFLE	COPY_MAP_DATA	57416000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5064710
+SHUFFLE	COMPRESS_BYTE_COUNT	743019
+SHUFFLE	COPY_MAP_DATA	44706000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5053898
+SHUFFLE	COMPRESS_BYTE_COUNT	741628
+SHUFFLE	COPY_MAP_DATA	44599000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5066954
+SHUFFLE	COMPRESS_BYTE_COUNT	743210
+SHUFFLE	COPY_MAP_DATA	2962675000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5119994
+SHUFFLE	COMPRESS_BYTE_COUNT	750759
+SHUFFLE	COPY_MAP_DATA	4725015000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1194524
+SHUFFLE	COMPRESS_BYTE_COUNT	173298
+SHUFFLE	COPY_MAP_DATA	13493000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5101328
+SHUFFLE	COMPRESS_BYTE_COUNT	748198
+SHUFFLE	COPY_MAP_DATA	43902000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5123156
+SHUFFLE	COMPRESS_BYTE_COUNT	750849
+SHUFFLE	COPY_MAP_DATA	42891000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5075624
+SHUFFLE	COMPRESS_BYTE_COUNT	744290
+SHUFFLE	COPY_MAP_DATA	4386190000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1189220
+SHUFFLE	COMPRESS_BYTE_COUNT	172553
+SHUFFLE	COPY_MAP_DATA	226397000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5101940
+SHUFFLE	COMPRESS_BYTE_COUNT	748579
+SHUFFLE	COPY_MAP_DATA	68823000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5085314
+SHUFFLE	COMPRESS_BYTE_COUNT	746330
+SHUFFLE	COPY_MAP_DATA	42521000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1190444
+SHUFFLE	COMPRESS_BYTE_COUNT	172855
+SHUFFLE	COPY_MAP_DATA	16420000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5076848
+SHUFFLE	COMPRESS_BYTE_COUNT	744799
+SHUFFLE	COPY_MAP_DATA	247222000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1205336
+SHUFFLE	COMPRESS_BYTE_COUNT	174922
+SHUFFLE	COPY_MAP_DATA	61157000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5025746
+SHUFFLE	COMPRESS_BYTE_COUNT	736991
+SHUFFLE	COPY_MAP_DATA	43914000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5089394
+SHUFFLE	COMPRESS_BYTE_COUNT	746494
+SHUFFLE	COPY_MAP_DATA	962462000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5068484
+SHUFFLE	COMPRESS_BYTE_COUNT	743650
+SHUFFLE	COPY_MAP_DATA	61394000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1191770
+SHUFFLE	COMPRESS_BYTE_COUNT	173075
+SHUFFLE	COPY_MAP_DATA	47583000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1178510
+SHUFFLE	COMPRESS_BYTE_COUNT	170932
+SHUFFLE	COPY_MAP_DATA	94503000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5057876
+SHUFFLE	COMPRESS_BYTE_COUNT	741828
+SHUFFLE	COPY_MAP_DATA	82814000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1186466
+SHUFFLE	COMPRESS_BYTE_COUNT	172085
+SHUFFLE	COPY_MAP_DATA	12408000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1215638
+SHUFFLE	COMPRESS_BYTE_COUNT	176413
+SHUFFLE	COPY_MAP_DATA	1136456000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1200950
+SHUFFLE	COMPRESS_BYTE_COUNT	174315
+SHUFFLE	COPY_MAP_DATA	77402000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1204112
+SHUFFLE	COMPRESS_BYTE_COUNT	174703
+SHUFFLE	COPY_MAP_DATA	19242000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5055530
+SHUFFLE	COMPRESS_BYTE_COUNT	741508
+SHUFFLE	COPY_MAP_DATA	59344000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1206356
+SHUFFLE	COMPRESS_BYTE_COUNT	174976
+SHUFFLE	COPY_MAP_DATA	14348000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1194320
+SHUFFLE	COMPRESS_BYTE_COUNT	173465
+SHUFFLE	COPY_MAP_DATA	65269000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5054102
+SHUFFLE	COMPRESS_BYTE_COUNT	741451
+SHUFFLE	COPY_MAP_DATA	54023000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5080928
+SHUFFLE	COMPRESS_BYTE_COUNT	745160
+SHUFFLE	COPY_MAP_DATA	291032000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1192076
+SHUFFLE	COMPRESS_BYTE_COUNT	172998
+SHUFFLE	COPY_MAP_DATA	69774000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5051756
+SHUFFLE	COMPRESS_BYTE_COUNT	741178
+SHUFFLE	COPY_MAP_DATA	11395980000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5076134
+SHUFFLE	COMPRESS_BYTE_COUNT	744523
+SHUFFLE	COPY_MAP_DATA	2326111000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1211150
+SHUFFLE	COMPRESS_BYTE_COUNT	175712
+SHUFFLE	COPY_MAP_DATA	13424000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5078786
+SHUFFLE	COMPRESS_BYTE_COUNT	745145
+SHUFFLE	COPY_MAP_DATA	45341000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1175246
+SHUFFLE	COMPRESS_BYTE_COUNT	170503
+SHUFFLE	COPY_MAP_DATA	11311000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1183406
+SHUFFLE	COMPRESS_BYTE_COUNT	171851
+SHUFFLE	COPY_MAP_DATA	12543000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1169126
+SHUFFLE	COMPRESS_BYTE_COUNT	169717
+SHUFFLE	COPY_MAP_DATA	13043000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1211456
+SHUFFLE	COMPRESS_BYTE_COUNT	175852
+SHUFFLE	COPY_MAP_DATA	139125000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1218902
+SHUFFLE	COMPRESS_BYTE_COUNT	176762
+SHUFFLE	COPY_MAP_DATA	13781000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5055632
+SHUFFLE	COMPRESS_BYTE_COUNT	741658
+SHUFFLE	COPY_MAP_DATA	2382811000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1167188
+SHUFFLE	COMPRESS_BYTE_COUNT	169331
+SHUFFLE	COPY_MAP_DATA	76733000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5091944
+SHUFFLE	COMPRESS_BYTE_COUNT	746870
+SHUFFLE	COPY_MAP_DATA	134545000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1184834
+SHUFFLE	COMPRESS_BYTE_COUNT	171979
+SHUFFLE	COPY_MAP_DATA	44910000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1198298
+SHUFFLE	COMPRESS_BYTE_COUNT	173911
+SHUFFLE	COPY_MAP_DATA	12256000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1176572
+SHUFFLE	COMPRESS_BYTE_COUNT	170835
+SHUFFLE	COPY_MAP_DATA	113287000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5106428
+SHUFFLE	COMPRESS_BYTE_COUNT	749359
+SHUFFLE	COPY_MAP_DATA	47959000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1197992
+SHUFFLE	COMPRESS_BYTE_COUNT	173907
+SHUFFLE	COPY_MAP_DATA	15957000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5102552
+SHUFFLE	COMPRESS_BYTE_COUNT	748147
+SHUFFLE	COPY_MAP_DATA	203605000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1175552
+SHUFFLE	COMPRESS_BYTE_COUNT	170614
+SHUFFLE	COPY_MAP_DATA	852667000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1197584
+SHUFFLE	COMPRESS_BYTE_COUNT	173930
+SHUFFLE	COPY_MAP_DATA	97240000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1192280
+SHUFFLE	COMPRESS_BYTE_COUNT	173103
+SHUFFLE	COPY_MAP_DATA	278417000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1191668
+SHUFFLE	COMPRESS_BYTE_COUNT	172854
+SHUFFLE	COPY_MAP_DATA	26044000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1198808
+SHUFFLE	COMPRESS_BYTE_COUNT	173984
+SHUFFLE	COPY_MAP_DATA	339472000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1194728
+SHUFFLE	COMPRESS_BYTE_COUNT	173280
+SHUFFLE	COPY_MAP_DATA	1792460000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5069300
+SHUFFLE	COMPRESS_BYTE_COUNT	743928
+SHUFFLE	COPY_MAP_DATA	55836000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1180754
+SHUFFLE	COMPRESS_BYTE_COUNT	171438
+SHUFFLE	COPY_MAP_DATA	26536000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5114588
+SHUFFLE	COMPRESS_BYTE_COUNT	750343
+SHUFFLE	COPY_MAP_DATA	274270000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1196564
+SHUFFLE	COMPRESS_BYTE_COUNT	173532
+SHUFFLE	COPY_MAP_DATA	13013000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1210130
+SHUFFLE	COMPRESS_BYTE_COUNT	175737
+SHUFFLE	COPY_MAP_DATA	13374000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1196054
+SHUFFLE	COMPRESS_BYTE_COUNT	173608
+SHUFFLE	COPY_MAP_DATA	12342000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1184834
+SHUFFLE	COMPRESS_BYTE_COUNT	171916
+SHUFFLE	COPY_MAP_DATA	1472098000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1174940
+SHUFFLE	COMPRESS_BYTE_COUNT	170491
+SHUFFLE	COPY_MAP_DATA	113389000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1190240
+SHUFFLE	COMPRESS_BYTE_COUNT	172825
+SHUFFLE	COPY_MAP_DATA	579073000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1194932
+SHUFFLE	COMPRESS_BYTE_COUNT	173454
+SHUFFLE	COPY_MAP_DATA	1263038000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1174328
+SHUFFLE	COMPRESS_BYTE_COUNT	170488
+SHUFFLE	COPY_MAP_DATA	729538000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5053796
+SHUFFLE	COMPRESS_BYTE_COUNT	741145
+SHUFFLE	COPY_MAP_DATA	41931000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1176266
+SHUFFLE	COMPRESS_BYTE_COUNT	170815
+SHUFFLE	COPY_MAP_DATA	1502564000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1188914
+SHUFFLE	COMPRESS_BYTE_COUNT	172596
+SHUFFLE	COPY_MAP_DATA	14800000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5103470
+SHUFFLE	COMPRESS_BYTE_COUNT	748548
+SHUFFLE	COPY_MAP_DATA	42906000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5093372
+SHUFFLE	COMPRESS_BYTE_COUNT	746827
+SHUFFLE	COPY_MAP_DATA	3195625000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1186670
+SHUFFLE	COMPRESS_BYTE_COUNT	172255
+SHUFFLE	COPY_MAP_DATA	13020000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1187282
+SHUFFLE	COMPRESS_BYTE_COUNT	172325
+SHUFFLE	COPY_MAP_DATA	12601000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1185242
+SHUFFLE	COMPRESS_BYTE_COUNT	172057
+SHUFFLE	COPY_MAP_DATA	321466000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5148758
+SHUFFLE	COMPRESS_BYTE_COUNT	754949
+SHUFFLE	COPY_MAP_DATA	45663000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5103164
+SHUFFLE	COMPRESS_BYTE_COUNT	748540
+SHUFFLE	COPY_MAP_DATA	73348000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1190036
+SHUFFLE	COMPRESS_BYTE_COUNT	172645
+SHUFFLE	COPY_MAP_DATA	12086000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1206458
+SHUFFLE	COMPRESS_BYTE_COUNT	175207
+SHUFFLE	COPY_MAP_DATA	12266000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1207784
+SHUFFLE	COMPRESS_BYTE_COUNT	175135
+SHUFFLE	COPY_MAP_DATA	12752000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1200236
+SHUFFLE	COMPRESS_BYTE_COUNT	174112
+SHUFFLE	COPY_MAP_DATA	27089000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1192280
+SHUFFLE	COMPRESS_BYTE_COUNT	173044
+SHUFFLE	COPY_MAP_DATA	11769000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1199114
+SHUFFLE	COMPRESS_BYTE_COUNT	174087
+SHUFFLE	COPY_MAP_DATA	11700000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1190852
+SHUFFLE	COMPRESS_BYTE_COUNT	172999
+SHUFFLE	COPY_MAP_DATA	25989000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1191260
+SHUFFLE	COMPRESS_BYTE_COUNT	172977
+SHUFFLE	COPY_MAP_DATA	1478955000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1176266
+SHUFFLE	COMPRESS_BYTE_COUNT	170780
+SHUFFLE	COPY_MAP_DATA	53321000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1212068
+SHUFFLE	COMPRESS_BYTE_COUNT	175944
+SHUFFLE	COPY_MAP_DATA	56541000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1205744
+SHUFFLE	COMPRESS_BYTE_COUNT	175051
+SHUFFLE	COPY_MAP_DATA	176776000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1209110
+SHUFFLE	COMPRESS_BYTE_COUNT	175555
+SHUFFLE	COPY_MAP_DATA	26354000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1214822
+SHUFFLE	COMPRESS_BYTE_COUNT	176334
+SHUFFLE	COPY_MAP_DATA	12668000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1199114
+SHUFFLE	COMPRESS_BYTE_COUNT	173962
+SHUFFLE	COPY_MAP_DATA	13560000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1204826
+SHUFFLE	COMPRESS_BYTE_COUNT	174772
+SHUFFLE	COPY_MAP_DATA	12204000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1200950
+SHUFFLE	COMPRESS_BYTE_COUNT	174310
+SHUFFLE	COPY_MAP_DATA	12026000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1215638
+SHUFFLE	COMPRESS_BYTE_COUNT	176347
+SHUFFLE	COPY_MAP_DATA	17866000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5062262
+SHUFFLE	COMPRESS_BYTE_COUNT	742512
+SHUFFLE	COPY_MAP_DATA	305964000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1181978
+SHUFFLE	COMPRESS_BYTE_COUNT	171684
+SHUFFLE	COPY_MAP_DATA	557463000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1188710
+SHUFFLE	COMPRESS_BYTE_COUNT	172524
+SHUFFLE	COPY_MAP_DATA	16072000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1192484
+SHUFFLE	COMPRESS_BYTE_COUNT	173198
+SHUFFLE	COPY_MAP_DATA	14906000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1202276
+SHUFFLE	COMPRESS_BYTE_COUNT	174458
+SHUFFLE	COPY_MAP_DATA	21092000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1188404
+SHUFFLE	COMPRESS_BYTE_COUNT	172477
+SHUFFLE	COPY_MAP_DATA	32392000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1209110
+SHUFFLE	COMPRESS_BYTE_COUNT	175305
+SHUFFLE	COPY_MAP_DATA	36142000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1184732
+SHUFFLE	COMPRESS_BYTE_COUNT	171876
+SHUFFLE	COPY_MAP_DATA	20979000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1182998
+SHUFFLE	COMPRESS_BYTE_COUNT	171702
+SHUFFLE	COPY_MAP_DATA	13830000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1165658
+SHUFFLE	COMPRESS_BYTE_COUNT	169220
+SHUFFLE	COPY_MAP_DATA	18986000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1197992
+SHUFFLE	COMPRESS_BYTE_COUNT	173830
+SHUFFLE	COPY_MAP_DATA	12555000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1205540
+SHUFFLE	COMPRESS_BYTE_COUNT	174955
+SHUFFLE	COPY_MAP_DATA	12530000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1198502
+SHUFFLE	COMPRESS_BYTE_COUNT	173877
+SHUFFLE	COPY_MAP_DATA	12129000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1200644
+SHUFFLE	COMPRESS_BYTE_COUNT	174213
+SHUFFLE	COPY_MAP_DATA	11812000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1202582
+SHUFFLE	COMPRESS_BYTE_COUNT	174553
+SHUFFLE	COPY_MAP_DATA	12353000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1190444
+SHUFFLE	COMPRESS_BYTE_COUNT	172680
+SHUFFLE	COPY_MAP_DATA	13283000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1192280
+SHUFFLE	COMPRESS_BYTE_COUNT	173200
+SHUFFLE	COPY_MAP_DATA	12129000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1200440
+SHUFFLE	COMPRESS_BYTE_COUNT	174192
+SHUFFLE	COPY_MAP_DATA	12720000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1176368
+SHUFFLE	COMPRESS_BYTE_COUNT	170655
+SHUFFLE	COPY_MAP_DATA	12939000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1193708
+SHUFFLE	COMPRESS_BYTE_COUNT	173334
+SHUFFLE	COPY_MAP_DATA	21283000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1191158
+SHUFFLE	COMPRESS_BYTE_COUNT	173064
+SHUFFLE	COPY_MAP_DATA	34011000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1199624
+SHUFFLE	COMPRESS_BYTE_COUNT	174055
+SHUFFLE	COPY_MAP_DATA	25918000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1185038
+SHUFFLE	COMPRESS_BYTE_COUNT	171971
+SHUFFLE	COPY_MAP_DATA	13661000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1178816
+SHUFFLE	COMPRESS_BYTE_COUNT	171062
+SHUFFLE	COPY_MAP_DATA	95059000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1199420
+SHUFFLE	COMPRESS_BYTE_COUNT	174005
+SHUFFLE	COPY_MAP_DATA	13647000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1189016
+SHUFFLE	COMPRESS_BYTE_COUNT	172446
+SHUFFLE	COPY_MAP_DATA	59825000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1189832
+SHUFFLE	COMPRESS_BYTE_COUNT	172651
+SHUFFLE	COPY_MAP_DATA	33204000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1170044
+SHUFFLE	COMPRESS_BYTE_COUNT	169880
+SHUFFLE	COPY_MAP_DATA	14494000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1209008
+SHUFFLE	COMPRESS_BYTE_COUNT	175537
+SHUFFLE	COPY_MAP_DATA	71362000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1198808
+SHUFFLE	COMPRESS_BYTE_COUNT	173983
+SHUFFLE	COPY_MAP_DATA	89973000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1187588
+SHUFFLE	COMPRESS_BYTE_COUNT	172253
+SHUFFLE	COPY_MAP_DATA	12391000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1185752
+SHUFFLE	COMPRESS_BYTE_COUNT	172035
+SHUFFLE	COPY_MAP_DATA	23091000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	278745195710
+MERGE	READ_WRITE	265569061710
+MERGE	READ_WRITE_COUNT	8
+MERGE	COMBINE	0
+MERGE	WRITE	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	1372200000
+SORT	READ_WRITE	1301263000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	186059208
+REDUCE	SETUP	326000
+REDUCE	SETUP_MEM	186059208
+REDUCE	CLEANUP	30000
+REDUCE	CLEANUP_MEM	203538880
+REDUCE	TOTAL_RUN	166587270000
+REDUCE	READ	23236434000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	86082418000
+REDUCE	WRITE	34393462000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	111280990
+REDUCE	VALUE_BYTE_COUNT	979272712
+REDUCE	REDUCE_MEM	203538880
+REDUCE	WRITE	4235000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	704454516710
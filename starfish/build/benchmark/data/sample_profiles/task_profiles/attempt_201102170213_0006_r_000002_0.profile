@@ -0,0 +1,1229 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5124278
+SHUFFLE	COMPRESS_BYTE_COUNT	751358
+SHUFFLE	COPY_MAP_DATA	4540241000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5079500
+SHUFFLE	COMPRESS_BYTE_COUNT	745463
+SHUFFLE	COPY_MAP_DATA	85020000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5107856
+SHUFFLE	COMPRESS_BYTE_COUNT	748601
+SHUFFLE	COPY_MAP_DATA	82743000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5136110
+SHUFFLE	COMPRESS_BYTE_COUNT	753037
+SHUFFLE	COPY_MAP_DATA	152102000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5112752
+SHUFFLE	COMPRESS_BYTE_COUNT	749753
+SHUFFLE	COPY_MAP_DATA	199364000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5097758
+SHUFFLE	COMPRESS_BYTE_COUNT	747372
+SHUFFLE	COPY_MAP_DATA	105393000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5100002
+SHUFFLE	COMPRESS_BYTE_COUNT	748074
+SHUFFLE	COPY_MAP_DATA	72509000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5105918
+SHUFFLE	COMPRESS_BYTE_COUNT	748470
+SHUFFLE	COPY_MAP_DATA	58429000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5090414
+SHUFFLE	COMPRESS_BYTE_COUNT	746745
+SHUFFLE	COPY_MAP_DATA	125702000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5150186
+SHUFFLE	COMPRESS_BYTE_COUNT	755558
+SHUFFLE	COPY_MAP_DATA	48161000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5100614
+SHUFFLE	COMPRESS_BYTE_COUNT	748118
+SHUFFLE	COPY_MAP_DATA	55197000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5126522
+SHUFFLE	COMPRESS_BYTE_COUNT	752179
+SHUFFLE	COPY_MAP_DATA	305980000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5083988
+SHUFFLE	COMPRESS_BYTE_COUNT	746334
+SHUFFLE	COPY_MAP_DATA	53872000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5144678
+SHUFFLE	COMPRESS_BYTE_COUNT	754928
+SHUFFLE	COPY_MAP_DATA	245360000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5084090
+SHUFFLE	COMPRESS_BYTE_COUNT	746276
+SHUFFLE	COPY_MAP_DATA	47597000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5128664
+SHUFFLE	COMPRESS_BYTE_COUNT	751950
+SHUFFLE	COPY_MAP_DATA	70013000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5120300
+SHUFFLE	COMPRESS_BYTE_COUNT	751512
+SHUFFLE	COPY_MAP_DATA	52850000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5156408
+SHUFFLE	COMPRESS_BYTE_COUNT	755923
+SHUFFLE	COPY_MAP_DATA	76369000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5114180
+SHUFFLE	COMPRESS_BYTE_COUNT	750279
+SHUFFLE	COPY_MAP_DATA	421546000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5083478
+SHUFFLE	COMPRESS_BYTE_COUNT	745574
+SHUFFLE	COPY_MAP_DATA	56330000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5097554
+SHUFFLE	COMPRESS_BYTE_COUNT	747415
+SHUFFLE	COPY_MAP_DATA	50416000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5126522
+SHUFFLE	COMPRESS_BYTE_COUNT	751879
+SHUFFLE	COPY_MAP_DATA	53644000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5111630
+SHUFFLE	COMPRESS_BYTE_COUNT	749980
+SHUFFLE	COPY_MAP_DATA	145994000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5107652
+SHUFFLE	COMPRESS_BYTE_COUNT	749167
+SHUFFLE	COPY_MAP_DATA	49942000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5128664
+SHUFFLE	COMPRESS_BYTE_COUNT	752252
+SHUFFLE	COPY_MAP_DATA	68475000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5114588
+SHUFFLE	COMPRESS_BYTE_COUNT	749968
+SHUFFLE	COPY_MAP_DATA	99709000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5115506
+SHUFFLE	COMPRESS_BYTE_COUNT	750013
+SHUFFLE	COPY_MAP_DATA	3778141000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5134172
+SHUFFLE	COMPRESS_BYTE_COUNT	753331
+SHUFFLE	COPY_MAP_DATA	63560000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5107448
+SHUFFLE	COMPRESS_BYTE_COUNT	749146
+SHUFFLE	COPY_MAP_DATA	2271791000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5139782
+SHUFFLE	COMPRESS_BYTE_COUNT	753674
+SHUFFLE	COPY_MAP_DATA	43720000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5128970
+SHUFFLE	COMPRESS_BYTE_COUNT	752300
+SHUFFLE	COPY_MAP_DATA	61128000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5110610
+SHUFFLE	COMPRESS_BYTE_COUNT	749799
+SHUFFLE	COPY_MAP_DATA	52800000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5133560
+SHUFFLE	COMPRESS_BYTE_COUNT	752786
+SHUFFLE	COPY_MAP_DATA	63069000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5089802
+SHUFFLE	COMPRESS_BYTE_COUNT	746368
+SHUFFLE	COPY_MAP_DATA	205912000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5139068
+SHUFFLE	COMPRESS_BYTE_COUNT	754017
+SHUFFLE	COPY_MAP_DATA	214633000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5102654
+SHUFFLE	COMPRESS_BYTE_COUNT	748265
+SHUFFLE	COPY_MAP_DATA	46388000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5151002
+SHUFFLE	COMPRESS_BYTE_COUNT	755447
+SHUFFLE	COPY_MAP_DATA	48993000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5121524
+SHUFFLE	COMPRESS_BYTE_COUNT	750971
+SHUFFLE	COPY_MAP_DATA	55568000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5118260
+SHUFFLE	COMPRESS_BYTE_COUNT	750260
+SHUFFLE	COPY_MAP_DATA	66183000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5108570
+SHUFFLE	COMPRESS_BYTE_COUNT	749166
+SHUFFLE	COPY_MAP_DATA	62801000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5135498
+SHUFFLE	COMPRESS_BYTE_COUNT	753398
+SHUFFLE	COPY_MAP_DATA	45678000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5076338
+SHUFFLE	COMPRESS_BYTE_COUNT	744534
+SHUFFLE	COPY_MAP_DATA	102343000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5097146
+SHUFFLE	COMPRESS_BYTE_COUNT	747780
+SHUFFLE	COPY_MAP_DATA	54596000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5128154
+SHUFFLE	COMPRESS_BYTE_COUNT	752315
+SHUFFLE	COPY_MAP_DATA	45560000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5133254
+SHUFFLE	COMPRESS_BYTE_COUNT	752572
+SHUFFLE	COPY_MAP_DATA	165362000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5131928
+SHUFFLE	COMPRESS_BYTE_COUNT	752908
+SHUFFLE	COPY_MAP_DATA	62182000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5114078
+SHUFFLE	COMPRESS_BYTE_COUNT	750063
+SHUFFLE	COPY_MAP_DATA	201106000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5121422
+SHUFFLE	COMPRESS_BYTE_COUNT	751179
+SHUFFLE	COPY_MAP_DATA	65118000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5124482
+SHUFFLE	COMPRESS_BYTE_COUNT	751230
+SHUFFLE	COPY_MAP_DATA	44063000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5098676
+SHUFFLE	COMPRESS_BYTE_COUNT	747826
+SHUFFLE	COPY_MAP_DATA	42459000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5131826
+SHUFFLE	COMPRESS_BYTE_COUNT	752664
+SHUFFLE	COPY_MAP_DATA	48883000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5113874
+SHUFFLE	COMPRESS_BYTE_COUNT	750100
+SHUFFLE	COPY_MAP_DATA	114505000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5123972
+SHUFFLE	COMPRESS_BYTE_COUNT	751682
+SHUFFLE	COPY_MAP_DATA	77176000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5112650
+SHUFFLE	COMPRESS_BYTE_COUNT	749679
+SHUFFLE	COPY_MAP_DATA	316553000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5106428
+SHUFFLE	COMPRESS_BYTE_COUNT	748591
+SHUFFLE	COPY_MAP_DATA	524381000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5093270
+SHUFFLE	COMPRESS_BYTE_COUNT	742430
+SHUFFLE	COPY_MAP_DATA	1363396000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5079296
+SHUFFLE	COMPRESS_BYTE_COUNT	745094
+SHUFFLE	COPY_MAP_DATA	95236000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5121932
+SHUFFLE	COMPRESS_BYTE_COUNT	750798
+SHUFFLE	COPY_MAP_DATA	61980000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5103776
+SHUFFLE	COMPRESS_BYTE_COUNT	748632
+SHUFFLE	COPY_MAP_DATA	54465000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5088476
+SHUFFLE	COMPRESS_BYTE_COUNT	746563
+SHUFFLE	COPY_MAP_DATA	59781000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5123564
+SHUFFLE	COMPRESS_BYTE_COUNT	751379
+SHUFFLE	COPY_MAP_DATA	158556000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5105918
+SHUFFLE	COMPRESS_BYTE_COUNT	749459
+SHUFFLE	COPY_MAP_DATA	51226000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5106224
+SHUFFLE	COMPRESS_BYTE_COUNT	748559
+SHUFFLE	COPY_MAP_DATA	227697000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5088986
+SHUFFLE	COMPRESS_BYTE_COUNT	746549
+SHUFFLE	COPY_MAP_DATA	1601234000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5096126
+SHUFFLE	COMPRESS_BYTE_COUNT	747566
+SHUFFLE	COPY_MAP_DATA	46111000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5149778
+SHUFFLE	COMPRESS_BYTE_COUNT	755143
+SHUFFLE	COPY_MAP_DATA	55295000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5097248
+SHUFFLE	COMPRESS_BYTE_COUNT	747510
+SHUFFLE	COPY_MAP_DATA	275347000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5151716
+SHUFFLE	COMPRESS_BYTE_COUNT	755166
+SHUFFLE	COPY_MAP_DATA	1532151000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5160488
+SHUFFLE	COMPRESS_BYTE_COUNT	757135
+SHUFFLE	COPY_MAP_DATA	1448914000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5127950
+SHUFFLE	COMPRESS_BYTE_COUNT	752262
+SHUFFLE	COPY_MAP_DATA	1750059000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5076746
+SHUFFLE	COMPRESS_BYTE_COUNT	745059
+SHUFFLE	COPY_MAP_DATA	325472000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5071646
+SHUFFLE	COMPRESS_BYTE_COUNT	744292
+SHUFFLE	COPY_MAP_DATA	3938823000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5158142
+SHUFFLE	COMPRESS_BYTE_COUNT	756355
+SHUFFLE	COPY_MAP_DATA	47110000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5092046
+SHUFFLE	COMPRESS_BYTE_COUNT	746844
+SHUFFLE	COPY_MAP_DATA	486774000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5080928
+SHUFFLE	COMPRESS_BYTE_COUNT	745543
+SHUFFLE	COPY_MAP_DATA	2821701000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5094902
+SHUFFLE	COMPRESS_BYTE_COUNT	747501
+SHUFFLE	COPY_MAP_DATA	910829000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5103980
+SHUFFLE	COMPRESS_BYTE_COUNT	748199
+SHUFFLE	COPY_MAP_DATA	53328000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5109692
+SHUFFLE	COMPRESS_BYTE_COUNT	749602
+SHUFFLE	COPY_MAP_DATA	43479000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5119892
+SHUFFLE	COMPRESS_BYTE_COUNT	750708
+SHUFFLE	COPY_MAP_DATA	5568327000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5106632
+SHUFFLE	COMPRESS_BYTE_COUNT	749071
+SHUFFLE	COPY_MAP_DATA	95943000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5101430
+SHUFFLE	COMPRESS_BYTE_COUNT	748709
+SHUFFLE	COPY_MAP_DATA	57361000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5154776
+SHUFFLE	COMPRESS_BYTE_COUNT	756226
+SHUFFLE	COPY_MAP_DATA	2382983000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5139578
+SHUFFLE	COMPRESS_BYTE_COUNT	753743
+SHUFFLE	COPY_MAP_DATA	515902000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5098574
+SHUFFLE	COMPRESS_BYTE_COUNT	747830
+SHUFFLE	COPY_MAP_DATA	4927347000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5106836
+SHUFFLE	COMPRESS_BYTE_COUNT	749069
+SHUFFLE	COPY_MAP_DATA	179994000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5122034
+SHUFFLE	COMPRESS_BYTE_COUNT	751427
+SHUFFLE	COPY_MAP_DATA	305128000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5143964
+SHUFFLE	COMPRESS_BYTE_COUNT	753786
+SHUFFLE	COPY_MAP_DATA	1896512000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5094086
+SHUFFLE	COMPRESS_BYTE_COUNT	746931
+SHUFFLE	COPY_MAP_DATA	8997631000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5098166
+SHUFFLE	COMPRESS_BYTE_COUNT	747963
+SHUFFLE	COPY_MAP_DATA	283871000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5057060
+SHUFFLE	COMPRESS_BYTE_COUNT	741970
+SHUFFLE	COPY_MAP_DATA	229773000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5137742
+SHUFFLE	COMPRESS_BYTE_COUNT	753391
+SHUFFLE	COPY_MAP_DATA	45253000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5105408
+SHUFFLE	COMPRESS_BYTE_COUNT	748836
+SHUFFLE	COPY_MAP_DATA	553230000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5115812
+SHUFFLE	COMPRESS_BYTE_COUNT	750296
+SHUFFLE	COPY_MAP_DATA	3061085000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5080316
+SHUFFLE	COMPRESS_BYTE_COUNT	745168
+SHUFFLE	COPY_MAP_DATA	1705111000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5105510
+SHUFFLE	COMPRESS_BYTE_COUNT	749013
+SHUFFLE	COPY_MAP_DATA	54108000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5117138
+SHUFFLE	COMPRESS_BYTE_COUNT	750370
+SHUFFLE	COPY_MAP_DATA	2296800000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5104592
+SHUFFLE	COMPRESS_BYTE_COUNT	748590
+SHUFFLE	COPY_MAP_DATA	44159000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5158040
+SHUFFLE	COMPRESS_BYTE_COUNT	756122
+SHUFFLE	COPY_MAP_DATA	334728000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5089802
+SHUFFLE	COMPRESS_BYTE_COUNT	746448
+SHUFFLE	COPY_MAP_DATA	43686000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5096330
+SHUFFLE	COMPRESS_BYTE_COUNT	747659
+SHUFFLE	COPY_MAP_DATA	53128000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5061752
+SHUFFLE	COMPRESS_BYTE_COUNT	742848
+SHUFFLE	COPY_MAP_DATA	222550000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5078072
+SHUFFLE	COMPRESS_BYTE_COUNT	745133
+SHUFFLE	COPY_MAP_DATA	66147000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5095004
+SHUFFLE	COMPRESS_BYTE_COUNT	747209
+SHUFFLE	COPY_MAP_DATA	126366000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5108162
+SHUFFLE	COMPRESS_BYTE_COUNT	749109
+SHUFFLE	COPY_MAP_DATA	962528000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5132234
+SHUFFLE	COMPRESS_BYTE_COUNT	752455
+SHUFFLE	COPY_MAP_DATA	51279000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5151920
+SHUFFLE	COMPRESS_BYTE_COUNT	755277
+SHUFFLE	COPY_MAP_DATA	43962000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5132234
+SHUFFLE	COMPRESS_BYTE_COUNT	752848
+SHUFFLE	COPY_MAP_DATA	489002000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5115710
+SHUFFLE	COMPRESS_BYTE_COUNT	750621
+SHUFFLE	COPY_MAP_DATA	605038000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5107958
+SHUFFLE	COMPRESS_BYTE_COUNT	748897
+SHUFFLE	COPY_MAP_DATA	43905000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5084702
+SHUFFLE	COMPRESS_BYTE_COUNT	746054
+SHUFFLE	COPY_MAP_DATA	43358000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5100104
+SHUFFLE	COMPRESS_BYTE_COUNT	748001
+SHUFFLE	COPY_MAP_DATA	90194000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5078480
+SHUFFLE	COMPRESS_BYTE_COUNT	745092
+SHUFFLE	COPY_MAP_DATA	276656000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5119178
+SHUFFLE	COMPRESS_BYTE_COUNT	750988
+SHUFFLE	COPY_MAP_DATA	64519000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5112446
+SHUFFLE	COMPRESS_BYTE_COUNT	749691
+SHUFFLE	COPY_MAP_DATA	249896000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5113466
+SHUFFLE	COMPRESS_BYTE_COUNT	749798
+SHUFFLE	COPY_MAP_DATA	56000000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5122238
+SHUFFLE	COMPRESS_BYTE_COUNT	751453
+SHUFFLE	COPY_MAP_DATA	333563000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5103164
+SHUFFLE	COMPRESS_BYTE_COUNT	748773
+SHUFFLE	COPY_MAP_DATA	1179501000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5097248
+SHUFFLE	COMPRESS_BYTE_COUNT	747201
+SHUFFLE	COPY_MAP_DATA	43355000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5126420
+SHUFFLE	COMPRESS_BYTE_COUNT	751808
+SHUFFLE	COPY_MAP_DATA	47157000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5092964
+SHUFFLE	COMPRESS_BYTE_COUNT	747080
+SHUFFLE	COPY_MAP_DATA	5031175000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5075216
+SHUFFLE	COMPRESS_BYTE_COUNT	744399
+SHUFFLE	COPY_MAP_DATA	2800324000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5121218
+SHUFFLE	COMPRESS_BYTE_COUNT	750736
+SHUFFLE	COPY_MAP_DATA	1566705000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5178950
+SHUFFLE	COMPRESS_BYTE_COUNT	759129
+SHUFFLE	COPY_MAP_DATA	1463021000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5130908
+SHUFFLE	COMPRESS_BYTE_COUNT	752576
+SHUFFLE	COPY_MAP_DATA	122590000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5130092
+SHUFFLE	COMPRESS_BYTE_COUNT	752341
+SHUFFLE	COPY_MAP_DATA	44131000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5093372
+SHUFFLE	COMPRESS_BYTE_COUNT	746882
+SHUFFLE	COPY_MAP_DATA	42833000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5113262
+SHUFFLE	COMPRESS_BYTE_COUNT	750357
+SHUFFLE	COPY_MAP_DATA	1465643000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5152532
+SHUFFLE	COMPRESS_BYTE_COUNT	755436
+SHUFFLE	COPY_MAP_DATA	438591000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5128460
+SHUFFLE	COMPRESS_BYTE_COUNT	752422
+SHUFFLE	COPY_MAP_DATA	62588000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5143964
+SHUFFLE	COMPRESS_BYTE_COUNT	754471
+SHUFFLE	COPY_MAP_DATA	80756000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5119382
+SHUFFLE	COMPRESS_BYTE_COUNT	750828
+SHUFFLE	COPY_MAP_DATA	160989000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5100410
+SHUFFLE	COMPRESS_BYTE_COUNT	748150
+SHUFFLE	COPY_MAP_DATA	47689000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5139680
+SHUFFLE	COMPRESS_BYTE_COUNT	753856
+SHUFFLE	COPY_MAP_DATA	1444049000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5109182
+SHUFFLE	COMPRESS_BYTE_COUNT	749444
+SHUFFLE	COPY_MAP_DATA	43628000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5066648
+SHUFFLE	COMPRESS_BYTE_COUNT	742931
+SHUFFLE	COPY_MAP_DATA	1662392000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5111732
+SHUFFLE	COMPRESS_BYTE_COUNT	749389
+SHUFFLE	COPY_MAP_DATA	43481000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5134172
+SHUFFLE	COMPRESS_BYTE_COUNT	752783
+SHUFFLE	COPY_MAP_DATA	175503000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5132846
+SHUFFLE	COMPRESS_BYTE_COUNT	752580
+SHUFFLE	COPY_MAP_DATA	80870000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5074400
+SHUFFLE	COMPRESS_BYTE_COUNT	737103
+SHUFFLE	COPY_MAP_DATA	64452000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5112752
+SHUFFLE	COMPRESS_BYTE_COUNT	750052
+SHUFFLE	COPY_MAP_DATA	44936000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5146922
+SHUFFLE	COMPRESS_BYTE_COUNT	754476
+SHUFFLE	COPY_MAP_DATA	124707000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5127950
+SHUFFLE	COMPRESS_BYTE_COUNT	751737
+SHUFFLE	COPY_MAP_DATA	51099000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5106632
+SHUFFLE	COMPRESS_BYTE_COUNT	749078
+SHUFFLE	COPY_MAP_DATA	822580000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5111936
+SHUFFLE	COMPRESS_BYTE_COUNT	749982
+SHUFFLE	COPY_MAP_DATA	1871101000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1202582
+SHUFFLE	COMPRESS_BYTE_COUNT	174613
+SHUFFLE	COPY_MAP_DATA	4478677000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5107652
+SHUFFLE	COMPRESS_BYTE_COUNT	748963
+SHUFFLE	COPY_MAP_DATA	1728067236
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5123258
+SHUFFLE	COMPRESS_BYTE_COUNT	751010
+SHUFFLE	COPY_MAP_DATA	56294000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1195646
+SHUFFLE	COMPRESS_BYTE_COUNT	173641
+SHUFFLE	COPY_MAP_DATA	13231000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5122646
+SHUFFLE	COMPRESS_BYTE_COUNT	751013
+SHUFFLE	COPY_MAP_DATA	320634000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5100512
+SHUFFLE	COMPRESS_BYTE_COUNT	748272
+SHUFFLE	COPY_MAP_DATA	18728188000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1196258
+SHUFFLE	COMPRESS_BYTE_COUNT	173713
+SHUFFLE	COPY_MAP_DATA	636192000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5141924
+SHUFFLE	COMPRESS_BYTE_COUNT	753952
+SHUFFLE	COPY_MAP_DATA	46427000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5151308
+SHUFFLE	COMPRESS_BYTE_COUNT	755639
+SHUFFLE	COPY_MAP_DATA	111049000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5077664
+SHUFFLE	COMPRESS_BYTE_COUNT	744712
+SHUFFLE	COPY_MAP_DATA	96581000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5119280
+SHUFFLE	COMPRESS_BYTE_COUNT	750994
+SHUFFLE	COPY_MAP_DATA	190631000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5115710
+SHUFFLE	COMPRESS_BYTE_COUNT	750421
+SHUFFLE	COPY_MAP_DATA	60264000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5112752
+SHUFFLE	COMPRESS_BYTE_COUNT	750053
+SHUFFLE	COPY_MAP_DATA	471457000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1195748
+SHUFFLE	COMPRESS_BYTE_COUNT	173641
+SHUFFLE	COPY_MAP_DATA	154339000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5071952
+SHUFFLE	COMPRESS_BYTE_COUNT	743724
+SHUFFLE	COPY_MAP_DATA	52396000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5087966
+SHUFFLE	COMPRESS_BYTE_COUNT	746736
+SHUFFLE	COPY_MAP_DATA	254146000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5081642
+SHUFFLE	COMPRESS_BYTE_COUNT	745343
+SHUFFLE	COPY_MAP_DATA	233170000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1190648
+SHUFFLE	COMPRESS_BYTE_COUNT	172906
+SHUFFLE	COPY_MAP_DATA	14726000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5116016
+SHUFFLE	COMPRESS_BYTE_COUNT	750087
+SHUFFLE	COPY_MAP_DATA	57510000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5075114
+SHUFFLE	COMPRESS_BYTE_COUNT	744271
+SHUFFLE	COPY_MAP_DATA	165268000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5115302
+SHUFFLE	COMPRESS_BYTE_COUNT	750364
+SHUFFLE	COPY_MAP_DATA	72087000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5130500
+SHUFFLE	COMPRESS_BYTE_COUNT	752553
+SHUFFLE	COPY_MAP_DATA	45977000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5148248
+SHUFFLE	COMPRESS_BYTE_COUNT	755103
+SHUFFLE	COPY_MAP_DATA	111662000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5082968
+SHUFFLE	COMPRESS_BYTE_COUNT	745714
+SHUFFLE	COPY_MAP_DATA	42419000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5133356
+SHUFFLE	COMPRESS_BYTE_COUNT	752646
+SHUFFLE	COPY_MAP_DATA	1096781000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5088068
+SHUFFLE	COMPRESS_BYTE_COUNT	746211
+SHUFFLE	COPY_MAP_DATA	4654156000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1183406
+SHUFFLE	COMPRESS_BYTE_COUNT	171836
+SHUFFLE	COPY_MAP_DATA	1868760000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5168138
+SHUFFLE	COMPRESS_BYTE_COUNT	757377
+SHUFFLE	COPY_MAP_DATA	44541000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5134172
+SHUFFLE	COMPRESS_BYTE_COUNT	753086
+SHUFFLE	COPY_MAP_DATA	3875809000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1182794
+SHUFFLE	COMPRESS_BYTE_COUNT	171621
+SHUFFLE	COPY_MAP_DATA	14574000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1213598
+SHUFFLE	COMPRESS_BYTE_COUNT	176098
+SHUFFLE	COPY_MAP_DATA	69947000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5129480
+SHUFFLE	COMPRESS_BYTE_COUNT	752681
+SHUFFLE	COPY_MAP_DATA	45538000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5148860
+SHUFFLE	COMPRESS_BYTE_COUNT	754682
+SHUFFLE	COPY_MAP_DATA	1773063000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5166710
+SHUFFLE	COMPRESS_BYTE_COUNT	758058
+SHUFFLE	COPY_MAP_DATA	51088000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5109590
+SHUFFLE	COMPRESS_BYTE_COUNT	749315
+SHUFFLE	COPY_MAP_DATA	49035000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1201766
+SHUFFLE	COMPRESS_BYTE_COUNT	174518
+SHUFFLE	COPY_MAP_DATA	218812000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5120300
+SHUFFLE	COMPRESS_BYTE_COUNT	750967
+SHUFFLE	COPY_MAP_DATA	8448874000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5048594
+SHUFFLE	COMPRESS_BYTE_COUNT	740869
+SHUFFLE	COPY_MAP_DATA	6773490000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5102144
+SHUFFLE	COMPRESS_BYTE_COUNT	748146
+SHUFFLE	COPY_MAP_DATA	207745000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5152838
+SHUFFLE	COMPRESS_BYTE_COUNT	755918
+SHUFFLE	COPY_MAP_DATA	46254000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5113772
+SHUFFLE	COMPRESS_BYTE_COUNT	750037
+SHUFFLE	COPY_MAP_DATA	46011000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5111120
+SHUFFLE	COMPRESS_BYTE_COUNT	749097
+SHUFFLE	COPY_MAP_DATA	541592000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1200032
+SHUFFLE	COMPRESS_BYTE_COUNT	174215
+SHUFFLE	COPY_MAP_DATA	110045000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1202378
+SHUFFLE	COMPRESS_BYTE_COUNT	174446
+SHUFFLE	COPY_MAP_DATA	22041000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1204520
+SHUFFLE	COMPRESS_BYTE_COUNT	174815
+SHUFFLE	COPY_MAP_DATA	410090000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5088986
+SHUFFLE	COMPRESS_BYTE_COUNT	746326
+SHUFFLE	COPY_MAP_DATA	74240000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5176502
+SHUFFLE	COMPRESS_BYTE_COUNT	759193
+SHUFFLE	COPY_MAP_DATA	49944000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5056754
+SHUFFLE	COMPRESS_BYTE_COUNT	741546
+SHUFFLE	COPY_MAP_DATA	157080000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5102450
+SHUFFLE	COMPRESS_BYTE_COUNT	748157
+SHUFFLE	COPY_MAP_DATA	64827000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1229204
+SHUFFLE	COMPRESS_BYTE_COUNT	178372
+SHUFFLE	COPY_MAP_DATA	330011000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1206356
+SHUFFLE	COMPRESS_BYTE_COUNT	175106
+SHUFFLE	COPY_MAP_DATA	597491000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1212578
+SHUFFLE	COMPRESS_BYTE_COUNT	176038
+SHUFFLE	COPY_MAP_DATA	58316000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1223900
+SHUFFLE	COMPRESS_BYTE_COUNT	177539
+SHUFFLE	COPY_MAP_DATA	324701000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1199624
+SHUFFLE	COMPRESS_BYTE_COUNT	174109
+SHUFFLE	COPY_MAP_DATA	12583000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5115506
+SHUFFLE	COMPRESS_BYTE_COUNT	750520
+SHUFFLE	COPY_MAP_DATA	45612000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1218698
+SHUFFLE	COMPRESS_BYTE_COUNT	176797
+SHUFFLE	COPY_MAP_DATA	12349000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5139476
+SHUFFLE	COMPRESS_BYTE_COUNT	754174
+SHUFFLE	COPY_MAP_DATA	47826000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1191056
+SHUFFLE	COMPRESS_BYTE_COUNT	172861
+SHUFFLE	COPY_MAP_DATA	47036000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1183202
+SHUFFLE	COMPRESS_BYTE_COUNT	171711
+SHUFFLE	COPY_MAP_DATA	12762000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5122748
+SHUFFLE	COMPRESS_BYTE_COUNT	750873
+SHUFFLE	COPY_MAP_DATA	74894000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1200338
+SHUFFLE	COMPRESS_BYTE_COUNT	174336
+SHUFFLE	COPY_MAP_DATA	13299000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5141312
+SHUFFLE	COMPRESS_BYTE_COUNT	754263
+SHUFFLE	COPY_MAP_DATA	1805254000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1206764
+SHUFFLE	COMPRESS_BYTE_COUNT	175099
+SHUFFLE	COPY_MAP_DATA	15425000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5123054
+SHUFFLE	COMPRESS_BYTE_COUNT	751340
+SHUFFLE	COPY_MAP_DATA	48382000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5110406
+SHUFFLE	COMPRESS_BYTE_COUNT	749801
+SHUFFLE	COPY_MAP_DATA	51698000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5146412
+SHUFFLE	COMPRESS_BYTE_COUNT	754469
+SHUFFLE	COPY_MAP_DATA	47198000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1207682
+SHUFFLE	COMPRESS_BYTE_COUNT	175356
+SHUFFLE	COPY_MAP_DATA	595963000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5124380
+SHUFFLE	COMPRESS_BYTE_COUNT	751216
+SHUFFLE	COPY_MAP_DATA	4565420000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1221554
+SHUFFLE	COMPRESS_BYTE_COUNT	177264
+SHUFFLE	COPY_MAP_DATA	1084749000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1202684
+SHUFFLE	COMPRESS_BYTE_COUNT	174669
+SHUFFLE	COPY_MAP_DATA	86034000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5093576
+SHUFFLE	COMPRESS_BYTE_COUNT	746821
+SHUFFLE	COPY_MAP_DATA	4677451000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1184936
+SHUFFLE	COMPRESS_BYTE_COUNT	172007
+SHUFFLE	COPY_MAP_DATA	13943000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1211456
+SHUFFLE	COMPRESS_BYTE_COUNT	175835
+SHUFFLE	COPY_MAP_DATA	76973000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1213904
+SHUFFLE	COMPRESS_BYTE_COUNT	176142
+SHUFFLE	COPY_MAP_DATA	142078000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1203194
+SHUFFLE	COMPRESS_BYTE_COUNT	174503
+SHUFFLE	COPY_MAP_DATA	15356000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1203806
+SHUFFLE	COMPRESS_BYTE_COUNT	174849
+SHUFFLE	COPY_MAP_DATA	15805000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1195034
+SHUFFLE	COMPRESS_BYTE_COUNT	173573
+SHUFFLE	COPY_MAP_DATA	670233000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1201562
+SHUFFLE	COMPRESS_BYTE_COUNT	174459
+SHUFFLE	COPY_MAP_DATA	22724000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1213700
+SHUFFLE	COMPRESS_BYTE_COUNT	176183
+SHUFFLE	COPY_MAP_DATA	12820000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5117240
+SHUFFLE	COMPRESS_BYTE_COUNT	750231
+SHUFFLE	COPY_MAP_DATA	1232424000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1209824
+SHUFFLE	COMPRESS_BYTE_COUNT	175640
+SHUFFLE	COPY_MAP_DATA	16586000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1194830
+SHUFFLE	COMPRESS_BYTE_COUNT	173392
+SHUFFLE	COPY_MAP_DATA	13732000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1201358
+SHUFFLE	COMPRESS_BYTE_COUNT	174415
+SHUFFLE	COPY_MAP_DATA	32612000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1201970
+SHUFFLE	COMPRESS_BYTE_COUNT	174473
+SHUFFLE	COPY_MAP_DATA	356838000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5135906
+SHUFFLE	COMPRESS_BYTE_COUNT	753455
+SHUFFLE	COPY_MAP_DATA	184869000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1207376
+SHUFFLE	COMPRESS_BYTE_COUNT	175202
+SHUFFLE	COPY_MAP_DATA	5219373000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5111528
+SHUFFLE	COMPRESS_BYTE_COUNT	749853
+SHUFFLE	COPY_MAP_DATA	162398000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5095004
+SHUFFLE	COMPRESS_BYTE_COUNT	747261
+SHUFFLE	COPY_MAP_DATA	114106000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1191770
+SHUFFLE	COMPRESS_BYTE_COUNT	172990
+SHUFFLE	COPY_MAP_DATA	12039000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1215434
+SHUFFLE	COMPRESS_BYTE_COUNT	176460
+SHUFFLE	COPY_MAP_DATA	12657000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1201766
+SHUFFLE	COMPRESS_BYTE_COUNT	174458
+SHUFFLE	COPY_MAP_DATA	12158000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1210436
+SHUFFLE	COMPRESS_BYTE_COUNT	175698
+SHUFFLE	COPY_MAP_DATA	13330000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1206050
+SHUFFLE	COMPRESS_BYTE_COUNT	175195
+SHUFFLE	COPY_MAP_DATA	13743000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1205030
+SHUFFLE	COMPRESS_BYTE_COUNT	175029
+SHUFFLE	COPY_MAP_DATA	1344335000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1192280
+SHUFFLE	COMPRESS_BYTE_COUNT	173241
+SHUFFLE	COPY_MAP_DATA	144735000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1210946
+SHUFFLE	COMPRESS_BYTE_COUNT	175810
+SHUFFLE	COPY_MAP_DATA	13319000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1209008
+SHUFFLE	COMPRESS_BYTE_COUNT	175508
+SHUFFLE	COPY_MAP_DATA	39874000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5116832
+SHUFFLE	COMPRESS_BYTE_COUNT	750576
+SHUFFLE	COPY_MAP_DATA	282683000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5134886
+SHUFFLE	COMPRESS_BYTE_COUNT	752694
+SHUFFLE	COPY_MAP_DATA	2125179000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1189220
+SHUFFLE	COMPRESS_BYTE_COUNT	172767
+SHUFFLE	COPY_MAP_DATA	13040000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1209008
+SHUFFLE	COMPRESS_BYTE_COUNT	175536
+SHUFFLE	COPY_MAP_DATA	1388955000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1191464
+SHUFFLE	COMPRESS_BYTE_COUNT	172907
+SHUFFLE	COPY_MAP_DATA	58632000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5099186
+SHUFFLE	COMPRESS_BYTE_COUNT	747676
+SHUFFLE	COPY_MAP_DATA	200831000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1201970
+SHUFFLE	COMPRESS_BYTE_COUNT	174515
+SHUFFLE	COPY_MAP_DATA	164130000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1202888
+SHUFFLE	COMPRESS_BYTE_COUNT	174605
+SHUFFLE	COPY_MAP_DATA	11976000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1208090
+SHUFFLE	COMPRESS_BYTE_COUNT	175359
+SHUFFLE	COPY_MAP_DATA	12287000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1198604
+SHUFFLE	COMPRESS_BYTE_COUNT	174059
+SHUFFLE	COPY_MAP_DATA	65869000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1207172
+SHUFFLE	COMPRESS_BYTE_COUNT	175270
+SHUFFLE	COPY_MAP_DATA	13259000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5087048
+SHUFFLE	COMPRESS_BYTE_COUNT	746091
+SHUFFLE	COPY_MAP_DATA	143422000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5061446
+SHUFFLE	COMPRESS_BYTE_COUNT	742772
+SHUFFLE	COPY_MAP_DATA	50816000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1217474
+SHUFFLE	COMPRESS_BYTE_COUNT	176595
+SHUFFLE	COPY_MAP_DATA	13784000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1208702
+SHUFFLE	COMPRESS_BYTE_COUNT	175386
+SHUFFLE	COPY_MAP_DATA	12539000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1201154
+SHUFFLE	COMPRESS_BYTE_COUNT	174343
+SHUFFLE	COPY_MAP_DATA	1184472000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1209212
+SHUFFLE	COMPRESS_BYTE_COUNT	175518
+SHUFFLE	COPY_MAP_DATA	26461000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1199420
+SHUFFLE	COMPRESS_BYTE_COUNT	174109
+SHUFFLE	COPY_MAP_DATA	13680000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1207988
+SHUFFLE	COMPRESS_BYTE_COUNT	175373
+SHUFFLE	COPY_MAP_DATA	13700000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1214312
+SHUFFLE	COMPRESS_BYTE_COUNT	176344
+SHUFFLE	COPY_MAP_DATA	14067000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1211762
+SHUFFLE	COMPRESS_BYTE_COUNT	175924
+SHUFFLE	COPY_MAP_DATA	15051000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1199216
+SHUFFLE	COMPRESS_BYTE_COUNT	174031
+SHUFFLE	COPY_MAP_DATA	12793000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1204520
+SHUFFLE	COMPRESS_BYTE_COUNT	174848
+SHUFFLE	COPY_MAP_DATA	11945000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1201154
+SHUFFLE	COMPRESS_BYTE_COUNT	174408
+SHUFFLE	COPY_MAP_DATA	12703000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1204622
+SHUFFLE	COMPRESS_BYTE_COUNT	174834
+SHUFFLE	COPY_MAP_DATA	17781000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1214924
+SHUFFLE	COMPRESS_BYTE_COUNT	176282
+SHUFFLE	COPY_MAP_DATA	12242000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1213190
+SHUFFLE	COMPRESS_BYTE_COUNT	175984
+SHUFFLE	COPY_MAP_DATA	13791000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5098676
+SHUFFLE	COMPRESS_BYTE_COUNT	747430
+SHUFFLE	COPY_MAP_DATA	44948000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1209110
+SHUFFLE	COMPRESS_BYTE_COUNT	175499
+SHUFFLE	COPY_MAP_DATA	12706000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1201154
+SHUFFLE	COMPRESS_BYTE_COUNT	174334
+SHUFFLE	COPY_MAP_DATA	1216373000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1201052
+SHUFFLE	COMPRESS_BYTE_COUNT	174340
+SHUFFLE	COPY_MAP_DATA	18579000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1196768
+SHUFFLE	COMPRESS_BYTE_COUNT	173770
+SHUFFLE	COPY_MAP_DATA	12379000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1208396
+SHUFFLE	COMPRESS_BYTE_COUNT	175429
+SHUFFLE	COPY_MAP_DATA	12781000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1174226
+SHUFFLE	COMPRESS_BYTE_COUNT	170465
+SHUFFLE	COPY_MAP_DATA	14697000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1216046
+SHUFFLE	COMPRESS_BYTE_COUNT	176398
+SHUFFLE	COPY_MAP_DATA	12811000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1187792
+SHUFFLE	COMPRESS_BYTE_COUNT	172477
+SHUFFLE	COPY_MAP_DATA	13621000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1199726
+SHUFFLE	COMPRESS_BYTE_COUNT	174140
+SHUFFLE	COPY_MAP_DATA	23349000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1188710
+SHUFFLE	COMPRESS_BYTE_COUNT	172460
+SHUFFLE	COPY_MAP_DATA	82386000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1190750
+SHUFFLE	COMPRESS_BYTE_COUNT	172956
+SHUFFLE	COPY_MAP_DATA	10946000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1209620
+SHUFFLE	COMPRESS_BYTE_COUNT	175667
+SHUFFLE	COPY_MAP_DATA	12475000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1180754
+SHUFFLE	COMPRESS_BYTE_COUNT	171575
+SHUFFLE	COPY_MAP_DATA	12179000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1194830
+SHUFFLE	COMPRESS_BYTE_COUNT	173351
+SHUFFLE	COPY_MAP_DATA	12523000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1203092
+SHUFFLE	COMPRESS_BYTE_COUNT	174638
+SHUFFLE	COPY_MAP_DATA	23005000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1206152
+SHUFFLE	COMPRESS_BYTE_COUNT	175054
+SHUFFLE	COPY_MAP_DATA	13192000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1178714
+SHUFFLE	COMPRESS_BYTE_COUNT	171189
+SHUFFLE	COPY_MAP_DATA	92383000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1197074
+SHUFFLE	COMPRESS_BYTE_COUNT	173956
+SHUFFLE	COPY_MAP_DATA	28502000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1212782
+SHUFFLE	COMPRESS_BYTE_COUNT	175998
+SHUFFLE	COPY_MAP_DATA	12237000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1220126
+SHUFFLE	COMPRESS_BYTE_COUNT	177139
+SHUFFLE	COPY_MAP_DATA	16661000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1204010
+SHUFFLE	COMPRESS_BYTE_COUNT	174872
+SHUFFLE	COPY_MAP_DATA	43830000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1204214
+SHUFFLE	COMPRESS_BYTE_COUNT	174739
+SHUFFLE	COPY_MAP_DATA	13250000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1187894
+SHUFFLE	COMPRESS_BYTE_COUNT	172380
+SHUFFLE	COPY_MAP_DATA	12974000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1199726
+SHUFFLE	COMPRESS_BYTE_COUNT	174102
+SHUFFLE	COPY_MAP_DATA	13078000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1188404
+SHUFFLE	COMPRESS_BYTE_COUNT	172496
+SHUFFLE	COPY_MAP_DATA	11989000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1182284
+SHUFFLE	COMPRESS_BYTE_COUNT	171476
+SHUFFLE	COPY_MAP_DATA	27870000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1221758
+SHUFFLE	COMPRESS_BYTE_COUNT	177415
+SHUFFLE	COPY_MAP_DATA	105370000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1212374
+SHUFFLE	COMPRESS_BYTE_COUNT	175820
+SHUFFLE	COPY_MAP_DATA	15656000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1197176
+SHUFFLE	COMPRESS_BYTE_COUNT	173781
+SHUFFLE	COPY_MAP_DATA	196369000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1205540
+SHUFFLE	COMPRESS_BYTE_COUNT	175208
+SHUFFLE	COPY_MAP_DATA	147151000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1198604
+SHUFFLE	COMPRESS_BYTE_COUNT	174114
+SHUFFLE	COPY_MAP_DATA	14773000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	271429661236
+MERGE	READ_WRITE	265070448236
+MERGE	READ_WRITE_COUNT	8
+MERGE	COMBINE	0
+MERGE	WRITE	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	786886000
+SORT	READ_WRITE	721542000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	173225312
+REDUCE	SETUP	270000
+REDUCE	SETUP_MEM	173225312
+REDUCE	CLEANUP	36000
+REDUCE	CLEANUP_MEM	146730008
+REDUCE	TOTAL_RUN	171308193000
+REDUCE	READ	24787501000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	88213980000
+REDUCE	WRITE	35465497000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	112056810
+REDUCE	VALUE_BYTE_COUNT	986099928
+REDUCE	REDUCE_MEM	146730008
+REDUCE	WRITE	3925000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	717520990236
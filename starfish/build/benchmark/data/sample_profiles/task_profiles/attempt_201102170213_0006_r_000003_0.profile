@@ -0,0 +1,1229 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5064404
+SHUFFLE	COMPRESS_BYTE_COUNT	742578
+SHUFFLE	COPY_MAP_DATA	914543000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5037578
+SHUFFLE	COMPRESS_BYTE_COUNT	739360
+SHUFFLE	COPY_MAP_DATA	92343000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5037986
+SHUFFLE	COMPRESS_BYTE_COUNT	739326
+SHUFFLE	COPY_MAP_DATA	164817000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5078378
+SHUFFLE	COMPRESS_BYTE_COUNT	744884
+SHUFFLE	COPY_MAP_DATA	1442392000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5064914
+SHUFFLE	COMPRESS_BYTE_COUNT	742813
+SHUFFLE	COPY_MAP_DATA	175601000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5010038
+SHUFFLE	COMPRESS_BYTE_COUNT	734882
+SHUFFLE	COPY_MAP_DATA	84387000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5000144
+SHUFFLE	COMPRESS_BYTE_COUNT	733516
+SHUFFLE	COPY_MAP_DATA	67524000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5041760
+SHUFFLE	COMPRESS_BYTE_COUNT	739631
+SHUFFLE	COPY_MAP_DATA	57903000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5060222
+SHUFFLE	COMPRESS_BYTE_COUNT	742694
+SHUFFLE	COPY_MAP_DATA	209596000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4999328
+SHUFFLE	COMPRESS_BYTE_COUNT	733293
+SHUFFLE	COPY_MAP_DATA	66879000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5068178
+SHUFFLE	COMPRESS_BYTE_COUNT	743651
+SHUFFLE	COPY_MAP_DATA	370195000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5025746
+SHUFFLE	COMPRESS_BYTE_COUNT	737058
+SHUFFLE	COPY_MAP_DATA	93745000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5011058
+SHUFFLE	COMPRESS_BYTE_COUNT	734966
+SHUFFLE	COPY_MAP_DATA	53194000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5020442
+SHUFFLE	COMPRESS_BYTE_COUNT	735918
+SHUFFLE	COPY_MAP_DATA	391018000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5012894
+SHUFFLE	COMPRESS_BYTE_COUNT	735055
+SHUFFLE	COPY_MAP_DATA	53347000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5006774
+SHUFFLE	COMPRESS_BYTE_COUNT	734493
+SHUFFLE	COPY_MAP_DATA	50254000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5018198
+SHUFFLE	COMPRESS_BYTE_COUNT	736211
+SHUFFLE	COPY_MAP_DATA	70296000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5047676
+SHUFFLE	COMPRESS_BYTE_COUNT	740639
+SHUFFLE	COPY_MAP_DATA	47013000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5050838
+SHUFFLE	COMPRESS_BYTE_COUNT	740732
+SHUFFLE	COPY_MAP_DATA	3998672000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5032682
+SHUFFLE	COMPRESS_BYTE_COUNT	738677
+SHUFFLE	COPY_MAP_DATA	119239000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5029724
+SHUFFLE	COMPRESS_BYTE_COUNT	737796
+SHUFFLE	COPY_MAP_DATA	48136000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5058590
+SHUFFLE	COMPRESS_BYTE_COUNT	742356
+SHUFFLE	COPY_MAP_DATA	138355000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5026664
+SHUFFLE	COMPRESS_BYTE_COUNT	737760
+SHUFFLE	COPY_MAP_DATA	143678000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4980356
+SHUFFLE	COMPRESS_BYTE_COUNT	730618
+SHUFFLE	COPY_MAP_DATA	186871000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5025134
+SHUFFLE	COMPRESS_BYTE_COUNT	737288
+SHUFFLE	COPY_MAP_DATA	139455000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4998410
+SHUFFLE	COMPRESS_BYTE_COUNT	733334
+SHUFFLE	COPY_MAP_DATA	100239000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5032478
+SHUFFLE	COMPRESS_BYTE_COUNT	738403
+SHUFFLE	COPY_MAP_DATA	276946000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5022176
+SHUFFLE	COMPRESS_BYTE_COUNT	736389
+SHUFFLE	COPY_MAP_DATA	124651000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5030642
+SHUFFLE	COMPRESS_BYTE_COUNT	738508
+SHUFFLE	COPY_MAP_DATA	261986000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5032274
+SHUFFLE	COMPRESS_BYTE_COUNT	738274
+SHUFFLE	COPY_MAP_DATA	55539000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5002592
+SHUFFLE	COMPRESS_BYTE_COUNT	733966
+SHUFFLE	COPY_MAP_DATA	66651000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5069708
+SHUFFLE	COMPRESS_BYTE_COUNT	743599
+SHUFFLE	COPY_MAP_DATA	50858000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4986272
+SHUFFLE	COMPRESS_BYTE_COUNT	731365
+SHUFFLE	COPY_MAP_DATA	47211000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5041658
+SHUFFLE	COMPRESS_BYTE_COUNT	739960
+SHUFFLE	COPY_MAP_DATA	109138000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5061548
+SHUFFLE	COMPRESS_BYTE_COUNT	742771
+SHUFFLE	COPY_MAP_DATA	47129000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5023808
+SHUFFLE	COMPRESS_BYTE_COUNT	737207
+SHUFFLE	COPY_MAP_DATA	93110000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5021258
+SHUFFLE	COMPRESS_BYTE_COUNT	736307
+SHUFFLE	COPY_MAP_DATA	468134000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5027582
+SHUFFLE	COMPRESS_BYTE_COUNT	737701
+SHUFFLE	COPY_MAP_DATA	49183000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5043800
+SHUFFLE	COMPRESS_BYTE_COUNT	739786
+SHUFFLE	COPY_MAP_DATA	48076000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5074910
+SHUFFLE	COMPRESS_BYTE_COUNT	744045
+SHUFFLE	COPY_MAP_DATA	48263000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5056346
+SHUFFLE	COMPRESS_BYTE_COUNT	741864
+SHUFFLE	COPY_MAP_DATA	685569000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5027072
+SHUFFLE	COMPRESS_BYTE_COUNT	737484
+SHUFFLE	COPY_MAP_DATA	394575000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4985966
+SHUFFLE	COMPRESS_BYTE_COUNT	731406
+SHUFFLE	COPY_MAP_DATA	144954000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5029316
+SHUFFLE	COMPRESS_BYTE_COUNT	738348
+SHUFFLE	COPY_MAP_DATA	2177502000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5021972
+SHUFFLE	COMPRESS_BYTE_COUNT	736714
+SHUFFLE	COPY_MAP_DATA	48439000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5066444
+SHUFFLE	COMPRESS_BYTE_COUNT	743283
+SHUFFLE	COPY_MAP_DATA	74609000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5024012
+SHUFFLE	COMPRESS_BYTE_COUNT	736857
+SHUFFLE	COPY_MAP_DATA	1365275000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5025236
+SHUFFLE	COMPRESS_BYTE_COUNT	737081
+SHUFFLE	COPY_MAP_DATA	74674000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5019626
+SHUFFLE	COMPRESS_BYTE_COUNT	736608
+SHUFFLE	COPY_MAP_DATA	61786000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5004938
+SHUFFLE	COMPRESS_BYTE_COUNT	734403
+SHUFFLE	COPY_MAP_DATA	55877000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5030744
+SHUFFLE	COMPRESS_BYTE_COUNT	737855
+SHUFFLE	COPY_MAP_DATA	204119000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5035436
+SHUFFLE	COMPRESS_BYTE_COUNT	738787
+SHUFFLE	COPY_MAP_DATA	49917000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5039924
+SHUFFLE	COMPRESS_BYTE_COUNT	739305
+SHUFFLE	COPY_MAP_DATA	46561000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4991066
+SHUFFLE	COMPRESS_BYTE_COUNT	732140
+SHUFFLE	COPY_MAP_DATA	45024000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5028602
+SHUFFLE	COMPRESS_BYTE_COUNT	737361
+SHUFFLE	COPY_MAP_DATA	54698000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5000552
+SHUFFLE	COMPRESS_BYTE_COUNT	733943
+SHUFFLE	COPY_MAP_DATA	115080000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5021054
+SHUFFLE	COMPRESS_BYTE_COUNT	736532
+SHUFFLE	COPY_MAP_DATA	394175000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5014934
+SHUFFLE	COMPRESS_BYTE_COUNT	735536
+SHUFFLE	COPY_MAP_DATA	88124000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5000552
+SHUFFLE	COMPRESS_BYTE_COUNT	728969
+SHUFFLE	COPY_MAP_DATA	50651000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5039618
+SHUFFLE	COMPRESS_BYTE_COUNT	739642
+SHUFFLE	COPY_MAP_DATA	82169000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5046758
+SHUFFLE	COMPRESS_BYTE_COUNT	740450
+SHUFFLE	COPY_MAP_DATA	1123292000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5072462
+SHUFFLE	COMPRESS_BYTE_COUNT	743923
+SHUFFLE	COPY_MAP_DATA	1790577000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5030948
+SHUFFLE	COMPRESS_BYTE_COUNT	738123
+SHUFFLE	COPY_MAP_DATA	58206000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5039006
+SHUFFLE	COMPRESS_BYTE_COUNT	738716
+SHUFFLE	COPY_MAP_DATA	50979000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5005142
+SHUFFLE	COMPRESS_BYTE_COUNT	734455
+SHUFFLE	COPY_MAP_DATA	276195000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5010242
+SHUFFLE	COMPRESS_BYTE_COUNT	735165
+SHUFFLE	COPY_MAP_DATA	287436000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5084600
+SHUFFLE	COMPRESS_BYTE_COUNT	745733
+SHUFFLE	COPY_MAP_DATA	45316000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5052878
+SHUFFLE	COMPRESS_BYTE_COUNT	740953
+SHUFFLE	COPY_MAP_DATA	51514000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5041046
+SHUFFLE	COMPRESS_BYTE_COUNT	739528
+SHUFFLE	COPY_MAP_DATA	55009000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5019626
+SHUFFLE	COMPRESS_BYTE_COUNT	736386
+SHUFFLE	COPY_MAP_DATA	995983000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5033294
+SHUFFLE	COMPRESS_BYTE_COUNT	738512
+SHUFFLE	COPY_MAP_DATA	48046000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5037884
+SHUFFLE	COMPRESS_BYTE_COUNT	738653
+SHUFFLE	COPY_MAP_DATA	235106000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5019524
+SHUFFLE	COMPRESS_BYTE_COUNT	736426
+SHUFFLE	COPY_MAP_DATA	3078392000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5004020
+SHUFFLE	COMPRESS_BYTE_COUNT	734255
+SHUFFLE	COPY_MAP_DATA	2154369000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5033090
+SHUFFLE	COMPRESS_BYTE_COUNT	738238
+SHUFFLE	COPY_MAP_DATA	216479000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5026052
+SHUFFLE	COMPRESS_BYTE_COUNT	737106
+SHUFFLE	COPY_MAP_DATA	1418933000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5042372
+SHUFFLE	COMPRESS_BYTE_COUNT	739725
+SHUFFLE	COPY_MAP_DATA	354503000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5033192
+SHUFFLE	COMPRESS_BYTE_COUNT	738180
+SHUFFLE	COPY_MAP_DATA	5293783000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5021258
+SHUFFLE	COMPRESS_BYTE_COUNT	736933
+SHUFFLE	COPY_MAP_DATA	62651000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4993922
+SHUFFLE	COMPRESS_BYTE_COUNT	732769
+SHUFFLE	COPY_MAP_DATA	1040820000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5044106
+SHUFFLE	COMPRESS_BYTE_COUNT	740112
+SHUFFLE	COPY_MAP_DATA	177806000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5047880
+SHUFFLE	COMPRESS_BYTE_COUNT	740717
+SHUFFLE	COPY_MAP_DATA	62501000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5034008
+SHUFFLE	COMPRESS_BYTE_COUNT	738224
+SHUFFLE	COPY_MAP_DATA	21324710000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5019422
+SHUFFLE	COMPRESS_BYTE_COUNT	736189
+SHUFFLE	COPY_MAP_DATA	1953979000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5019116
+SHUFFLE	COMPRESS_BYTE_COUNT	736503
+SHUFFLE	COPY_MAP_DATA	2586291000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5046860
+SHUFFLE	COMPRESS_BYTE_COUNT	740221
+SHUFFLE	COPY_MAP_DATA	158378000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5022176
+SHUFFLE	COMPRESS_BYTE_COUNT	736677
+SHUFFLE	COPY_MAP_DATA	1834698000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5025338
+SHUFFLE	COMPRESS_BYTE_COUNT	737142
+SHUFFLE	COPY_MAP_DATA	701746000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5056040
+SHUFFLE	COMPRESS_BYTE_COUNT	741840
+SHUFFLE	COPY_MAP_DATA	310482000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5020850
+SHUFFLE	COMPRESS_BYTE_COUNT	736396
+SHUFFLE	COPY_MAP_DATA	1044818000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5016362
+SHUFFLE	COMPRESS_BYTE_COUNT	735655
+SHUFFLE	COPY_MAP_DATA	165768000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5060630
+SHUFFLE	COMPRESS_BYTE_COUNT	742368
+SHUFFLE	COPY_MAP_DATA	66558000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5014730
+SHUFFLE	COMPRESS_BYTE_COUNT	735187
+SHUFFLE	COPY_MAP_DATA	84600000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5045228
+SHUFFLE	COMPRESS_BYTE_COUNT	740433
+SHUFFLE	COPY_MAP_DATA	102259000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5027990
+SHUFFLE	COMPRESS_BYTE_COUNT	737768
+SHUFFLE	COPY_MAP_DATA	1217003000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5061140
+SHUFFLE	COMPRESS_BYTE_COUNT	742389
+SHUFFLE	COPY_MAP_DATA	1850489000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5046452
+SHUFFLE	COMPRESS_BYTE_COUNT	739903
+SHUFFLE	COPY_MAP_DATA	632241000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5011364
+SHUFFLE	COMPRESS_BYTE_COUNT	735632
+SHUFFLE	COPY_MAP_DATA	1738897000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5052062
+SHUFFLE	COMPRESS_BYTE_COUNT	741183
+SHUFFLE	COPY_MAP_DATA	770849000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5043392
+SHUFFLE	COMPRESS_BYTE_COUNT	739902
+SHUFFLE	COPY_MAP_DATA	2973985000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5029010
+SHUFFLE	COMPRESS_BYTE_COUNT	737917
+SHUFFLE	COPY_MAP_DATA	46701000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5019932
+SHUFFLE	COMPRESS_BYTE_COUNT	735967
+SHUFFLE	COPY_MAP_DATA	67382000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5056652
+SHUFFLE	COMPRESS_BYTE_COUNT	741583
+SHUFFLE	COPY_MAP_DATA	192771000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5033498
+SHUFFLE	COMPRESS_BYTE_COUNT	738336
+SHUFFLE	COPY_MAP_DATA	53378000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5011058
+SHUFFLE	COMPRESS_BYTE_COUNT	734991
+SHUFFLE	COPY_MAP_DATA	49423000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5018606
+SHUFFLE	COMPRESS_BYTE_COUNT	736422
+SHUFFLE	COPY_MAP_DATA	55234000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5025542
+SHUFFLE	COMPRESS_BYTE_COUNT	736985
+SHUFFLE	COPY_MAP_DATA	45811000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5025440
+SHUFFLE	COMPRESS_BYTE_COUNT	737689
+SHUFFLE	COPY_MAP_DATA	272817000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5026256
+SHUFFLE	COMPRESS_BYTE_COUNT	737710
+SHUFFLE	COPY_MAP_DATA	49438000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5022380
+SHUFFLE	COMPRESS_BYTE_COUNT	736373
+SHUFFLE	COPY_MAP_DATA	76422000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5027072
+SHUFFLE	COMPRESS_BYTE_COUNT	737049
+SHUFFLE	COPY_MAP_DATA	4140214000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5025134
+SHUFFLE	COMPRESS_BYTE_COUNT	737214
+SHUFFLE	COPY_MAP_DATA	135802000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5042576
+SHUFFLE	COMPRESS_BYTE_COUNT	740126
+SHUFFLE	COPY_MAP_DATA	47482000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5017790
+SHUFFLE	COMPRESS_BYTE_COUNT	736305
+SHUFFLE	COPY_MAP_DATA	51645000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5028908
+SHUFFLE	COMPRESS_BYTE_COUNT	737451
+SHUFFLE	COPY_MAP_DATA	50403000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5031152
+SHUFFLE	COMPRESS_BYTE_COUNT	738353
+SHUFFLE	COPY_MAP_DATA	45325000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5059610
+SHUFFLE	COMPRESS_BYTE_COUNT	742607
+SHUFFLE	COPY_MAP_DATA	98677000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5100104
+SHUFFLE	COMPRESS_BYTE_COUNT	747889
+SHUFFLE	COPY_MAP_DATA	44259000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5051144
+SHUFFLE	COMPRESS_BYTE_COUNT	741206
+SHUFFLE	COPY_MAP_DATA	1184562000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5040230
+SHUFFLE	COMPRESS_BYTE_COUNT	739193
+SHUFFLE	COPY_MAP_DATA	173185000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5083376
+SHUFFLE	COMPRESS_BYTE_COUNT	745332
+SHUFFLE	COPY_MAP_DATA	1298604000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5039822
+SHUFFLE	COMPRESS_BYTE_COUNT	739503
+SHUFFLE	COPY_MAP_DATA	51233000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4985048
+SHUFFLE	COMPRESS_BYTE_COUNT	731270
+SHUFFLE	COPY_MAP_DATA	47783000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5024522
+SHUFFLE	COMPRESS_BYTE_COUNT	736868
+SHUFFLE	COPY_MAP_DATA	48463000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5028908
+SHUFFLE	COMPRESS_BYTE_COUNT	737344
+SHUFFLE	COPY_MAP_DATA	386465788
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5023808
+SHUFFLE	COMPRESS_BYTE_COUNT	736609
+SHUFFLE	COPY_MAP_DATA	144764000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5039516
+SHUFFLE	COMPRESS_BYTE_COUNT	739742
+SHUFFLE	COPY_MAP_DATA	50178000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5052776
+SHUFFLE	COMPRESS_BYTE_COUNT	741470
+SHUFFLE	COPY_MAP_DATA	214945000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5056142
+SHUFFLE	COMPRESS_BYTE_COUNT	741631
+SHUFFLE	COPY_MAP_DATA	772685000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5055428
+SHUFFLE	COMPRESS_BYTE_COUNT	741687
+SHUFFLE	COPY_MAP_DATA	1707266000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5033600
+SHUFFLE	COMPRESS_BYTE_COUNT	738291
+SHUFFLE	COPY_MAP_DATA	47225000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5021462
+SHUFFLE	COMPRESS_BYTE_COUNT	736677
+SHUFFLE	COPY_MAP_DATA	96481000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5075522
+SHUFFLE	COMPRESS_BYTE_COUNT	744019
+SHUFFLE	COPY_MAP_DATA	55892000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5018198
+SHUFFLE	COMPRESS_BYTE_COUNT	736733
+SHUFFLE	COPY_MAP_DATA	55897000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5052164
+SHUFFLE	COMPRESS_BYTE_COUNT	740937
+SHUFFLE	COPY_MAP_DATA	415754000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5020748
+SHUFFLE	COMPRESS_BYTE_COUNT	736679
+SHUFFLE	COPY_MAP_DATA	51171000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5028704
+SHUFFLE	COMPRESS_BYTE_COUNT	730697
+SHUFFLE	COPY_MAP_DATA	49066000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5020748
+SHUFFLE	COMPRESS_BYTE_COUNT	736232
+SHUFFLE	COPY_MAP_DATA	49190000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5032070
+SHUFFLE	COMPRESS_BYTE_COUNT	737925
+SHUFFLE	COPY_MAP_DATA	50480000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5020034
+SHUFFLE	COMPRESS_BYTE_COUNT	736491
+SHUFFLE	COPY_MAP_DATA	11384094000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5049206
+SHUFFLE	COMPRESS_BYTE_COUNT	740284
+SHUFFLE	COPY_MAP_DATA	85151000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5024624
+SHUFFLE	COMPRESS_BYTE_COUNT	737170
+SHUFFLE	COPY_MAP_DATA	217005000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4999124
+SHUFFLE	COMPRESS_BYTE_COUNT	733285
+SHUFFLE	COPY_MAP_DATA	460202000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5013710
+SHUFFLE	COMPRESS_BYTE_COUNT	735691
+SHUFFLE	COPY_MAP_DATA	2384426000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5033804
+SHUFFLE	COMPRESS_BYTE_COUNT	738632
+SHUFFLE	COPY_MAP_DATA	86878000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1178714
+SHUFFLE	COMPRESS_BYTE_COUNT	171230
+SHUFFLE	COPY_MAP_DATA	54600000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5034926
+SHUFFLE	COMPRESS_BYTE_COUNT	738505
+SHUFFLE	COPY_MAP_DATA	268449000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1201052
+SHUFFLE	COMPRESS_BYTE_COUNT	174556
+SHUFFLE	COPY_MAP_DATA	13759000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4999124
+SHUFFLE	COMPRESS_BYTE_COUNT	733856
+SHUFFLE	COPY_MAP_DATA	45029000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5044004
+SHUFFLE	COMPRESS_BYTE_COUNT	739746
+SHUFFLE	COPY_MAP_DATA	45774000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5031356
+SHUFFLE	COMPRESS_BYTE_COUNT	738292
+SHUFFLE	COPY_MAP_DATA	1455219000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1197380
+SHUFFLE	COMPRESS_BYTE_COUNT	173772
+SHUFFLE	COPY_MAP_DATA	17913000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5012180
+SHUFFLE	COMPRESS_BYTE_COUNT	735470
+SHUFFLE	COPY_MAP_DATA	103975000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5020136
+SHUFFLE	COMPRESS_BYTE_COUNT	736581
+SHUFFLE	COPY_MAP_DATA	45762000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5025746
+SHUFFLE	COMPRESS_BYTE_COUNT	737301
+SHUFFLE	COPY_MAP_DATA	63142000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5044616
+SHUFFLE	COMPRESS_BYTE_COUNT	740310
+SHUFFLE	COPY_MAP_DATA	231321000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5011976
+SHUFFLE	COMPRESS_BYTE_COUNT	735636
+SHUFFLE	COPY_MAP_DATA	996718000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1188812
+SHUFFLE	COMPRESS_BYTE_COUNT	172616
+SHUFFLE	COPY_MAP_DATA	260003000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5028398
+SHUFFLE	COMPRESS_BYTE_COUNT	737708
+SHUFFLE	COPY_MAP_DATA	46500000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5048492
+SHUFFLE	COMPRESS_BYTE_COUNT	740244
+SHUFFLE	COPY_MAP_DATA	45836000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5020544
+SHUFFLE	COMPRESS_BYTE_COUNT	736621
+SHUFFLE	COPY_MAP_DATA	53172000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5019932
+SHUFFLE	COMPRESS_BYTE_COUNT	736228
+SHUFFLE	COPY_MAP_DATA	173772000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1180346
+SHUFFLE	COMPRESS_BYTE_COUNT	171372
+SHUFFLE	COPY_MAP_DATA	13717000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5047370
+SHUFFLE	COMPRESS_BYTE_COUNT	740371
+SHUFFLE	COPY_MAP_DATA	291948000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5016872
+SHUFFLE	COMPRESS_BYTE_COUNT	736166
+SHUFFLE	COPY_MAP_DATA	48987000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5037476
+SHUFFLE	COMPRESS_BYTE_COUNT	738559
+SHUFFLE	COPY_MAP_DATA	978165000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5011772
+SHUFFLE	COMPRESS_BYTE_COUNT	735467
+SHUFFLE	COPY_MAP_DATA	47905000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5007080
+SHUFFLE	COMPRESS_BYTE_COUNT	734561
+SHUFFLE	COPY_MAP_DATA	648108000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5065526
+SHUFFLE	COMPRESS_BYTE_COUNT	742571
+SHUFFLE	COPY_MAP_DATA	1494385000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5024216
+SHUFFLE	COMPRESS_BYTE_COUNT	737357
+SHUFFLE	COPY_MAP_DATA	631814000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1196156
+SHUFFLE	COMPRESS_BYTE_COUNT	173813
+SHUFFLE	COPY_MAP_DATA	1037485000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5024012
+SHUFFLE	COMPRESS_BYTE_COUNT	736847
+SHUFFLE	COPY_MAP_DATA	19113916000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5038496
+SHUFFLE	COMPRESS_BYTE_COUNT	739035
+SHUFFLE	COPY_MAP_DATA	1041998000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1169534
+SHUFFLE	COMPRESS_BYTE_COUNT	169800
+SHUFFLE	COPY_MAP_DATA	15808000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1169330
+SHUFFLE	COMPRESS_BYTE_COUNT	169760
+SHUFFLE	COPY_MAP_DATA	68465000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4997594
+SHUFFLE	COMPRESS_BYTE_COUNT	733624
+SHUFFLE	COPY_MAP_DATA	52319000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5023196
+SHUFFLE	COMPRESS_BYTE_COUNT	737356
+SHUFFLE	COPY_MAP_DATA	52818000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5009732
+SHUFFLE	COMPRESS_BYTE_COUNT	735273
+SHUFFLE	COPY_MAP_DATA	532756000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5027582
+SHUFFLE	COMPRESS_BYTE_COUNT	737636
+SHUFFLE	COPY_MAP_DATA	4168849000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5044106
+SHUFFLE	COMPRESS_BYTE_COUNT	740274
+SHUFFLE	COPY_MAP_DATA	89588000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1174022
+SHUFFLE	COMPRESS_BYTE_COUNT	170464
+SHUFFLE	COPY_MAP_DATA	23191000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5074808
+SHUFFLE	COMPRESS_BYTE_COUNT	744307
+SHUFFLE	COPY_MAP_DATA	347645000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4964648
+SHUFFLE	COMPRESS_BYTE_COUNT	727915
+SHUFFLE	COPY_MAP_DATA	51203000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1156784
+SHUFFLE	COMPRESS_BYTE_COUNT	167993
+SHUFFLE	COPY_MAP_DATA	13219000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5060630
+SHUFFLE	COMPRESS_BYTE_COUNT	742330
+SHUFFLE	COPY_MAP_DATA	763267000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5012690
+SHUFFLE	COMPRESS_BYTE_COUNT	735677
+SHUFFLE	COPY_MAP_DATA	500292000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5021156
+SHUFFLE	COMPRESS_BYTE_COUNT	736767
+SHUFFLE	COPY_MAP_DATA	261183000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1179530
+SHUFFLE	COMPRESS_BYTE_COUNT	171191
+SHUFFLE	COPY_MAP_DATA	14949000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5019218
+SHUFFLE	COMPRESS_BYTE_COUNT	736005
+SHUFFLE	COPY_MAP_DATA	52071000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1177592
+SHUFFLE	COMPRESS_BYTE_COUNT	170952
+SHUFFLE	COPY_MAP_DATA	63139000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5021360
+SHUFFLE	COMPRESS_BYTE_COUNT	736483
+SHUFFLE	COPY_MAP_DATA	168586000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1185242
+SHUFFLE	COMPRESS_BYTE_COUNT	172056
+SHUFFLE	COPY_MAP_DATA	201353000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1202990
+SHUFFLE	COMPRESS_BYTE_COUNT	174643
+SHUFFLE	COPY_MAP_DATA	158464000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5060528
+SHUFFLE	COMPRESS_BYTE_COUNT	741951
+SHUFFLE	COPY_MAP_DATA	392955000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5028194
+SHUFFLE	COMPRESS_BYTE_COUNT	738083
+SHUFFLE	COPY_MAP_DATA	269773000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5050430
+SHUFFLE	COMPRESS_BYTE_COUNT	741096
+SHUFFLE	COPY_MAP_DATA	52584000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1176266
+SHUFFLE	COMPRESS_BYTE_COUNT	170848
+SHUFFLE	COPY_MAP_DATA	97335000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1163108
+SHUFFLE	COMPRESS_BYTE_COUNT	168855
+SHUFFLE	COPY_MAP_DATA	13351000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1186058
+SHUFFLE	COMPRESS_BYTE_COUNT	172099
+SHUFFLE	COPY_MAP_DATA	13903000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5006876
+SHUFFLE	COMPRESS_BYTE_COUNT	734693
+SHUFFLE	COPY_MAP_DATA	51169000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1178306
+SHUFFLE	COMPRESS_BYTE_COUNT	171058
+SHUFFLE	COPY_MAP_DATA	19289000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1196870
+SHUFFLE	COMPRESS_BYTE_COUNT	173829
+SHUFFLE	COPY_MAP_DATA	475720000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1201256
+SHUFFLE	COMPRESS_BYTE_COUNT	174490
+SHUFFLE	COPY_MAP_DATA	184324000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1193198
+SHUFFLE	COMPRESS_BYTE_COUNT	173234
+SHUFFLE	COPY_MAP_DATA	13624000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5030846
+SHUFFLE	COMPRESS_BYTE_COUNT	738013
+SHUFFLE	COPY_MAP_DATA	1166001000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1186670
+SHUFFLE	COMPRESS_BYTE_COUNT	172298
+SHUFFLE	COPY_MAP_DATA	15074000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4984028
+SHUFFLE	COMPRESS_BYTE_COUNT	731173
+SHUFFLE	COPY_MAP_DATA	138937000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5032274
+SHUFFLE	COMPRESS_BYTE_COUNT	738096
+SHUFFLE	COPY_MAP_DATA	52610000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1187690
+SHUFFLE	COMPRESS_BYTE_COUNT	172365
+SHUFFLE	COPY_MAP_DATA	1515278000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5013200
+SHUFFLE	COMPRESS_BYTE_COUNT	735643
+SHUFFLE	COPY_MAP_DATA	106247000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1170146
+SHUFFLE	COMPRESS_BYTE_COUNT	169883
+SHUFFLE	COPY_MAP_DATA	197475000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5039516
+SHUFFLE	COMPRESS_BYTE_COUNT	739023
+SHUFFLE	COPY_MAP_DATA	7932764000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4993616
+SHUFFLE	COMPRESS_BYTE_COUNT	732449
+SHUFFLE	COPY_MAP_DATA	6432467000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5040026
+SHUFFLE	COMPRESS_BYTE_COUNT	739152
+SHUFFLE	COPY_MAP_DATA	48201000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1174124
+SHUFFLE	COMPRESS_BYTE_COUNT	170396
+SHUFFLE	COPY_MAP_DATA	48423000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1170962
+SHUFFLE	COMPRESS_BYTE_COUNT	169987
+SHUFFLE	COPY_MAP_DATA	14425000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1183100
+SHUFFLE	COMPRESS_BYTE_COUNT	171752
+SHUFFLE	COPY_MAP_DATA	12800000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1178000
+SHUFFLE	COMPRESS_BYTE_COUNT	171036
+SHUFFLE	COPY_MAP_DATA	13256000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1181060
+SHUFFLE	COMPRESS_BYTE_COUNT	171615
+SHUFFLE	COPY_MAP_DATA	299997000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1197788
+SHUFFLE	COMPRESS_BYTE_COUNT	173820
+SHUFFLE	COPY_MAP_DATA	14831000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1187180
+SHUFFLE	COMPRESS_BYTE_COUNT	172311
+SHUFFLE	COPY_MAP_DATA	99712000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1181162
+SHUFFLE	COMPRESS_BYTE_COUNT	171531
+SHUFFLE	COPY_MAP_DATA	40890000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1190342
+SHUFFLE	COMPRESS_BYTE_COUNT	172766
+SHUFFLE	COPY_MAP_DATA	13321000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5031254
+SHUFFLE	COMPRESS_BYTE_COUNT	738400
+SHUFFLE	COPY_MAP_DATA	168784000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1195748
+SHUFFLE	COMPRESS_BYTE_COUNT	173574
+SHUFFLE	COPY_MAP_DATA	8768399000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5032376
+SHUFFLE	COMPRESS_BYTE_COUNT	738008
+SHUFFLE	COPY_MAP_DATA	97624000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1161476
+SHUFFLE	COMPRESS_BYTE_COUNT	168714
+SHUFFLE	COPY_MAP_DATA	35463000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1184630
+SHUFFLE	COMPRESS_BYTE_COUNT	171868
+SHUFFLE	COPY_MAP_DATA	25428000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1187486
+SHUFFLE	COMPRESS_BYTE_COUNT	172224
+SHUFFLE	COPY_MAP_DATA	13887000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5021564
+SHUFFLE	COMPRESS_BYTE_COUNT	736485
+SHUFFLE	COPY_MAP_DATA	1118310000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1173104
+SHUFFLE	COMPRESS_BYTE_COUNT	170214
+SHUFFLE	COPY_MAP_DATA	13505000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1183100
+SHUFFLE	COMPRESS_BYTE_COUNT	171687
+SHUFFLE	COPY_MAP_DATA	17167000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1183508
+SHUFFLE	COMPRESS_BYTE_COUNT	171929
+SHUFFLE	COPY_MAP_DATA	30790000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1204928
+SHUFFLE	COMPRESS_BYTE_COUNT	174895
+SHUFFLE	COPY_MAP_DATA	17106000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1191566
+SHUFFLE	COMPRESS_BYTE_COUNT	173099
+SHUFFLE	COPY_MAP_DATA	21043000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1193402
+SHUFFLE	COMPRESS_BYTE_COUNT	173333
+SHUFFLE	COPY_MAP_DATA	1112507000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1181468
+SHUFFLE	COMPRESS_BYTE_COUNT	171460
+SHUFFLE	COPY_MAP_DATA	180505000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5036048
+SHUFFLE	COMPRESS_BYTE_COUNT	739194
+SHUFFLE	COPY_MAP_DATA	46831000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1155356
+SHUFFLE	COMPRESS_BYTE_COUNT	167814
+SHUFFLE	COPY_MAP_DATA	2175545000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1159130
+SHUFFLE	COMPRESS_BYTE_COUNT	168412
+SHUFFLE	COPY_MAP_DATA	14104000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1179632
+SHUFFLE	COMPRESS_BYTE_COUNT	171328
+SHUFFLE	COPY_MAP_DATA	13414000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5044208
+SHUFFLE	COMPRESS_BYTE_COUNT	740201
+SHUFFLE	COPY_MAP_DATA	59488000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1185956
+SHUFFLE	COMPRESS_BYTE_COUNT	172132
+SHUFFLE	COPY_MAP_DATA	516084000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1183202
+SHUFFLE	COMPRESS_BYTE_COUNT	171768
+SHUFFLE	COPY_MAP_DATA	1643126000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1206254
+SHUFFLE	COMPRESS_BYTE_COUNT	175057
+SHUFFLE	COPY_MAP_DATA	13875000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4989128
+SHUFFLE	COMPRESS_BYTE_COUNT	731905
+SHUFFLE	COPY_MAP_DATA	3319146000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4989536
+SHUFFLE	COMPRESS_BYTE_COUNT	731516
+SHUFFLE	COPY_MAP_DATA	303658000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1191668
+SHUFFLE	COMPRESS_BYTE_COUNT	172847
+SHUFFLE	COPY_MAP_DATA	42102000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1187078
+SHUFFLE	COMPRESS_BYTE_COUNT	172356
+SHUFFLE	COPY_MAP_DATA	182765000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5033498
+SHUFFLE	COMPRESS_BYTE_COUNT	738411
+SHUFFLE	COPY_MAP_DATA	161005000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1202480
+SHUFFLE	COMPRESS_BYTE_COUNT	174612
+SHUFFLE	COPY_MAP_DATA	734310000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5010344
+SHUFFLE	COMPRESS_BYTE_COUNT	735030
+SHUFFLE	COPY_MAP_DATA	212984000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1180958
+SHUFFLE	COMPRESS_BYTE_COUNT	171349
+SHUFFLE	COPY_MAP_DATA	27419000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1156070
+SHUFFLE	COMPRESS_BYTE_COUNT	167909
+SHUFFLE	COPY_MAP_DATA	11672000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1194830
+SHUFFLE	COMPRESS_BYTE_COUNT	173478
+SHUFFLE	COPY_MAP_DATA	15190000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1186058
+SHUFFLE	COMPRESS_BYTE_COUNT	172167
+SHUFFLE	COPY_MAP_DATA	18801000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1180958
+SHUFFLE	COMPRESS_BYTE_COUNT	171423
+SHUFFLE	COPY_MAP_DATA	550774000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1197176
+SHUFFLE	COMPRESS_BYTE_COUNT	173740
+SHUFFLE	COPY_MAP_DATA	15121000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1205336
+SHUFFLE	COMPRESS_BYTE_COUNT	174928
+SHUFFLE	COPY_MAP_DATA	19193000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1180244
+SHUFFLE	COMPRESS_BYTE_COUNT	171388
+SHUFFLE	COPY_MAP_DATA	89844000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1198910
+SHUFFLE	COMPRESS_BYTE_COUNT	174013
+SHUFFLE	COPY_MAP_DATA	15174000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1197482
+SHUFFLE	COMPRESS_BYTE_COUNT	173945
+SHUFFLE	COPY_MAP_DATA	15141000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1194218
+SHUFFLE	COMPRESS_BYTE_COUNT	173468
+SHUFFLE	COPY_MAP_DATA	2338198000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1204826
+SHUFFLE	COMPRESS_BYTE_COUNT	174896
+SHUFFLE	COPY_MAP_DATA	19251000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5042066
+SHUFFLE	COMPRESS_BYTE_COUNT	739461
+SHUFFLE	COPY_MAP_DATA	540387000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1204928
+SHUFFLE	COMPRESS_BYTE_COUNT	174931
+SHUFFLE	COPY_MAP_DATA	13470000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1188098
+SHUFFLE	COMPRESS_BYTE_COUNT	172444
+SHUFFLE	COPY_MAP_DATA	13150000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1203296
+SHUFFLE	COMPRESS_BYTE_COUNT	174629
+SHUFFLE	COPY_MAP_DATA	13602000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1172798
+SHUFFLE	COMPRESS_BYTE_COUNT	170365
+SHUFFLE	COPY_MAP_DATA	18176000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1203194
+SHUFFLE	COMPRESS_BYTE_COUNT	174637
+SHUFFLE	COPY_MAP_DATA	15247000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1179938
+SHUFFLE	COMPRESS_BYTE_COUNT	171300
+SHUFFLE	COPY_MAP_DATA	12945000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1177796
+SHUFFLE	COMPRESS_BYTE_COUNT	171066
+SHUFFLE	COPY_MAP_DATA	13398000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1192688
+SHUFFLE	COMPRESS_BYTE_COUNT	173024
+SHUFFLE	COPY_MAP_DATA	13667000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1199012
+SHUFFLE	COMPRESS_BYTE_COUNT	174089
+SHUFFLE	COPY_MAP_DATA	13300000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1191770
+SHUFFLE	COMPRESS_BYTE_COUNT	173067
+SHUFFLE	COPY_MAP_DATA	13532000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1193504
+SHUFFLE	COMPRESS_BYTE_COUNT	173249
+SHUFFLE	COPY_MAP_DATA	12908000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1188812
+SHUFFLE	COMPRESS_BYTE_COUNT	172531
+SHUFFLE	COPY_MAP_DATA	12736000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1177490
+SHUFFLE	COMPRESS_BYTE_COUNT	171015
+SHUFFLE	COPY_MAP_DATA	13618000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1194932
+SHUFFLE	COMPRESS_BYTE_COUNT	173425
+SHUFFLE	COPY_MAP_DATA	13439000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1181876
+SHUFFLE	COMPRESS_BYTE_COUNT	171471
+SHUFFLE	COPY_MAP_DATA	427347000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1166372
+SHUFFLE	COMPRESS_BYTE_COUNT	169296
+SHUFFLE	COPY_MAP_DATA	895336000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1185854
+SHUFFLE	COMPRESS_BYTE_COUNT	172337
+SHUFFLE	COPY_MAP_DATA	12421000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1193810
+SHUFFLE	COMPRESS_BYTE_COUNT	173271
+SHUFFLE	COPY_MAP_DATA	13304000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1177184
+SHUFFLE	COMPRESS_BYTE_COUNT	170948
+SHUFFLE	COPY_MAP_DATA	13218000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1187690
+SHUFFLE	COMPRESS_BYTE_COUNT	172413
+SHUFFLE	COPY_MAP_DATA	138636000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1187996
+SHUFFLE	COMPRESS_BYTE_COUNT	172502
+SHUFFLE	COPY_MAP_DATA	13025000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1187384
+SHUFFLE	COMPRESS_BYTE_COUNT	172487
+SHUFFLE	COPY_MAP_DATA	13065000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1186976
+SHUFFLE	COMPRESS_BYTE_COUNT	172356
+SHUFFLE	COPY_MAP_DATA	13631000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1188710
+SHUFFLE	COMPRESS_BYTE_COUNT	172572
+SHUFFLE	COPY_MAP_DATA	15003000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1171370
+SHUFFLE	COMPRESS_BYTE_COUNT	170048
+SHUFFLE	COPY_MAP_DATA	45570000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1165454
+SHUFFLE	COMPRESS_BYTE_COUNT	169206
+SHUFFLE	COPY_MAP_DATA	19106000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1194728
+SHUFFLE	COMPRESS_BYTE_COUNT	173519
+SHUFFLE	COPY_MAP_DATA	13193000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1198196
+SHUFFLE	COMPRESS_BYTE_COUNT	174016
+SHUFFLE	COPY_MAP_DATA	14164000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1176674
+SHUFFLE	COMPRESS_BYTE_COUNT	170786
+SHUFFLE	COPY_MAP_DATA	291806000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1190444
+SHUFFLE	COMPRESS_BYTE_COUNT	172742
+SHUFFLE	COPY_MAP_DATA	949530000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1199624
+SHUFFLE	COMPRESS_BYTE_COUNT	174122
+SHUFFLE	COPY_MAP_DATA	210344000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1195034
+SHUFFLE	COMPRESS_BYTE_COUNT	173618
+SHUFFLE	COPY_MAP_DATA	211791000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1184732
+SHUFFLE	COMPRESS_BYTE_COUNT	172033
+SHUFFLE	COPY_MAP_DATA	12109000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1182386
+SHUFFLE	COMPRESS_BYTE_COUNT	171696
+SHUFFLE	COPY_MAP_DATA	8273496000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1180856
+SHUFFLE	COMPRESS_BYTE_COUNT	171414
+SHUFFLE	COPY_MAP_DATA	47084000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	304536852000
+MERGE	READ_WRITE	296654806000
+MERGE	READ_WRITE_COUNT	9
+MERGE	COMBINE	0
+MERGE	WRITE	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	345040000
+SORT	READ_WRITE	274179000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	296547880
+REDUCE	SETUP	352000
+REDUCE	SETUP_MEM	296547880
+REDUCE	CLEANUP	44000
+REDUCE	CLEANUP_MEM	60909592
+REDUCE	TOTAL_RUN	174518029000
+REDUCE	READ	24598834000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	91362938000
+REDUCE	WRITE	36841394000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	110253960
+REDUCE	VALUE_BYTE_COUNT	970234848
+REDUCE	REDUCE_MEM	60909592
+REDUCE	WRITE	5145000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	717698822788
@@ -0,0 +1,1229 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5072156
+SHUFFLE	COMPRESS_BYTE_COUNT	743532
+SHUFFLE	COPY_MAP_DATA	114118000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5045126
+SHUFFLE	COMPRESS_BYTE_COUNT	739901
+SHUFFLE	COPY_MAP_DATA	73885000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5082152
+SHUFFLE	COMPRESS_BYTE_COUNT	745143
+SHUFFLE	COPY_MAP_DATA	1267516000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5055122
+SHUFFLE	COMPRESS_BYTE_COUNT	741420
+SHUFFLE	COPY_MAP_DATA	73449000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5078786
+SHUFFLE	COMPRESS_BYTE_COUNT	744258
+SHUFFLE	COPY_MAP_DATA	100631000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5071136
+SHUFFLE	COMPRESS_BYTE_COUNT	743691
+SHUFFLE	COPY_MAP_DATA	96817000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5104388
+SHUFFLE	COMPRESS_BYTE_COUNT	748365
+SHUFFLE	COPY_MAP_DATA	67055000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5118362
+SHUFFLE	COMPRESS_BYTE_COUNT	750790
+SHUFFLE	COPY_MAP_DATA	125665000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5058284
+SHUFFLE	COMPRESS_BYTE_COUNT	741647
+SHUFFLE	COPY_MAP_DATA	184155000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5038802
+SHUFFLE	COMPRESS_BYTE_COUNT	739348
+SHUFFLE	COPY_MAP_DATA	47293000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5057876
+SHUFFLE	COMPRESS_BYTE_COUNT	741970
+SHUFFLE	COPY_MAP_DATA	1750820000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5014424
+SHUFFLE	COMPRESS_BYTE_COUNT	735342
+SHUFFLE	COPY_MAP_DATA	62086000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5064506
+SHUFFLE	COMPRESS_BYTE_COUNT	742570
+SHUFFLE	COPY_MAP_DATA	221150000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5019524
+SHUFFLE	COMPRESS_BYTE_COUNT	736682
+SHUFFLE	COPY_MAP_DATA	89816000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5019116
+SHUFFLE	COMPRESS_BYTE_COUNT	736077
+SHUFFLE	COPY_MAP_DATA	70554000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5041148
+SHUFFLE	COMPRESS_BYTE_COUNT	739046
+SHUFFLE	COPY_MAP_DATA	111171000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5091230
+SHUFFLE	COMPRESS_BYTE_COUNT	746776
+SHUFFLE	COPY_MAP_DATA	54980000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5047268
+SHUFFLE	COMPRESS_BYTE_COUNT	740180
+SHUFFLE	COPY_MAP_DATA	164492000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5082152
+SHUFFLE	COMPRESS_BYTE_COUNT	745171
+SHUFFLE	COPY_MAP_DATA	334440000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5062160
+SHUFFLE	COMPRESS_BYTE_COUNT	742276
+SHUFFLE	COPY_MAP_DATA	157630000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5081540
+SHUFFLE	COMPRESS_BYTE_COUNT	745285
+SHUFFLE	COPY_MAP_DATA	58619000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5049512
+SHUFFLE	COMPRESS_BYTE_COUNT	740341
+SHUFFLE	COPY_MAP_DATA	55505000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5076746
+SHUFFLE	COMPRESS_BYTE_COUNT	744791
+SHUFFLE	COPY_MAP_DATA	207250000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5026562
+SHUFFLE	COMPRESS_BYTE_COUNT	736790
+SHUFFLE	COPY_MAP_DATA	62989000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5077562
+SHUFFLE	COMPRESS_BYTE_COUNT	744215
+SHUFFLE	COPY_MAP_DATA	104548000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5076440
+SHUFFLE	COMPRESS_BYTE_COUNT	744632
+SHUFFLE	COPY_MAP_DATA	638927000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5074196
+SHUFFLE	COMPRESS_BYTE_COUNT	743851
+SHUFFLE	COPY_MAP_DATA	190396000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5131214
+SHUFFLE	COMPRESS_BYTE_COUNT	752788
+SHUFFLE	COPY_MAP_DATA	158291000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5058998
+SHUFFLE	COMPRESS_BYTE_COUNT	741967
+SHUFFLE	COPY_MAP_DATA	351080000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5081132
+SHUFFLE	COMPRESS_BYTE_COUNT	745426
+SHUFFLE	COPY_MAP_DATA	847379000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5083172
+SHUFFLE	COMPRESS_BYTE_COUNT	745685
+SHUFFLE	COPY_MAP_DATA	104108000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5083274
+SHUFFLE	COMPRESS_BYTE_COUNT	745176
+SHUFFLE	COPY_MAP_DATA	202989000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5094188
+SHUFFLE	COMPRESS_BYTE_COUNT	746941
+SHUFFLE	COPY_MAP_DATA	514474000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5099492
+SHUFFLE	COMPRESS_BYTE_COUNT	747854
+SHUFFLE	COPY_MAP_DATA	48839000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5051246
+SHUFFLE	COMPRESS_BYTE_COUNT	741111
+SHUFFLE	COPY_MAP_DATA	104306000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5073380
+SHUFFLE	COMPRESS_BYTE_COUNT	743722
+SHUFFLE	COPY_MAP_DATA	66171000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5009936
+SHUFFLE	COMPRESS_BYTE_COUNT	734559
+SHUFFLE	COPY_MAP_DATA	197374000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5094698
+SHUFFLE	COMPRESS_BYTE_COUNT	747243
+SHUFFLE	COPY_MAP_DATA	78419000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5083988
+SHUFFLE	COMPRESS_BYTE_COUNT	745528
+SHUFFLE	COPY_MAP_DATA	49918000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5048798
+SHUFFLE	COMPRESS_BYTE_COUNT	740187
+SHUFFLE	COPY_MAP_DATA	264628000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5050022
+SHUFFLE	COMPRESS_BYTE_COUNT	740882
+SHUFFLE	COPY_MAP_DATA	80479000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5057774
+SHUFFLE	COMPRESS_BYTE_COUNT	742060
+SHUFFLE	COPY_MAP_DATA	46750000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5011160
+SHUFFLE	COMPRESS_BYTE_COUNT	734830
+SHUFFLE	COPY_MAP_DATA	67621000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5081948
+SHUFFLE	COMPRESS_BYTE_COUNT	744928
+SHUFFLE	COPY_MAP_DATA	86559000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5108468
+SHUFFLE	COMPRESS_BYTE_COUNT	749120
+SHUFFLE	COPY_MAP_DATA	48189000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5098676
+SHUFFLE	COMPRESS_BYTE_COUNT	747525
+SHUFFLE	COPY_MAP_DATA	51486000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5074094
+SHUFFLE	COMPRESS_BYTE_COUNT	743919
+SHUFFLE	COPY_MAP_DATA	154375000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5067566
+SHUFFLE	COMPRESS_BYTE_COUNT	743241
+SHUFFLE	COPY_MAP_DATA	177693000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5065220
+SHUFFLE	COMPRESS_BYTE_COUNT	742808
+SHUFFLE	COPY_MAP_DATA	46745000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5059304
+SHUFFLE	COMPRESS_BYTE_COUNT	741652
+SHUFFLE	COPY_MAP_DATA	309008000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5088068
+SHUFFLE	COMPRESS_BYTE_COUNT	746449
+SHUFFLE	COPY_MAP_DATA	64591000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5076542
+SHUFFLE	COMPRESS_BYTE_COUNT	744346
+SHUFFLE	COPY_MAP_DATA	48531000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5042372
+SHUFFLE	COMPRESS_BYTE_COUNT	739715
+SHUFFLE	COPY_MAP_DATA	47037000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5047982
+SHUFFLE	COMPRESS_BYTE_COUNT	739940
+SHUFFLE	COPY_MAP_DATA	51219000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5092250
+SHUFFLE	COMPRESS_BYTE_COUNT	746855
+SHUFFLE	COPY_MAP_DATA	62726000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5053490
+SHUFFLE	COMPRESS_BYTE_COUNT	741049
+SHUFFLE	COPY_MAP_DATA	87855000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5059508
+SHUFFLE	COMPRESS_BYTE_COUNT	737592
+SHUFFLE	COPY_MAP_DATA	109553000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5047880
+SHUFFLE	COMPRESS_BYTE_COUNT	739973
+SHUFFLE	COPY_MAP_DATA	120135000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5054816
+SHUFFLE	COMPRESS_BYTE_COUNT	741290
+SHUFFLE	COPY_MAP_DATA	52461000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5032478
+SHUFFLE	COMPRESS_BYTE_COUNT	738360
+SHUFFLE	COPY_MAP_DATA	51760000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5053286
+SHUFFLE	COMPRESS_BYTE_COUNT	741258
+SHUFFLE	COPY_MAP_DATA	417441000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5035436
+SHUFFLE	COMPRESS_BYTE_COUNT	738701
+SHUFFLE	COPY_MAP_DATA	947718000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5054000
+SHUFFLE	COMPRESS_BYTE_COUNT	740826
+SHUFFLE	COPY_MAP_DATA	72236000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5065220
+SHUFFLE	COMPRESS_BYTE_COUNT	742761
+SHUFFLE	COPY_MAP_DATA	299352000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5056040
+SHUFFLE	COMPRESS_BYTE_COUNT	741527
+SHUFFLE	COPY_MAP_DATA	779766000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5081846
+SHUFFLE	COMPRESS_BYTE_COUNT	745406
+SHUFFLE	COPY_MAP_DATA	149192000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5043902
+SHUFFLE	COMPRESS_BYTE_COUNT	739473
+SHUFFLE	COPY_MAP_DATA	83890000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5072462
+SHUFFLE	COMPRESS_BYTE_COUNT	743831
+SHUFFLE	COPY_MAP_DATA	61821000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5061038
+SHUFFLE	COMPRESS_BYTE_COUNT	742711
+SHUFFLE	COPY_MAP_DATA	53332000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5068076
+SHUFFLE	COMPRESS_BYTE_COUNT	743409
+SHUFFLE	COPY_MAP_DATA	149050000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5039516
+SHUFFLE	COMPRESS_BYTE_COUNT	739217
+SHUFFLE	COPY_MAP_DATA	959091000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5073890
+SHUFFLE	COMPRESS_BYTE_COUNT	744251
+SHUFFLE	COPY_MAP_DATA	6154526000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5045024
+SHUFFLE	COMPRESS_BYTE_COUNT	739852
+SHUFFLE	COPY_MAP_DATA	72960000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5056550
+SHUFFLE	COMPRESS_BYTE_COUNT	741383
+SHUFFLE	COPY_MAP_DATA	3127007000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5031152
+SHUFFLE	COMPRESS_BYTE_COUNT	737994
+SHUFFLE	COPY_MAP_DATA	47155000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5066036
+SHUFFLE	COMPRESS_BYTE_COUNT	743308
+SHUFFLE	COPY_MAP_DATA	52836000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5075726
+SHUFFLE	COMPRESS_BYTE_COUNT	744485
+SHUFFLE	COPY_MAP_DATA	44869000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5086538
+SHUFFLE	COMPRESS_BYTE_COUNT	746301
+SHUFFLE	COPY_MAP_DATA	44523000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5053286
+SHUFFLE	COMPRESS_BYTE_COUNT	741224
+SHUFFLE	COPY_MAP_DATA	45943000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5058896
+SHUFFLE	COMPRESS_BYTE_COUNT	741764
+SHUFFLE	COPY_MAP_DATA	3264321000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5044922
+SHUFFLE	COMPRESS_BYTE_COUNT	739881
+SHUFFLE	COPY_MAP_DATA	42236000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5070218
+SHUFFLE	COMPRESS_BYTE_COUNT	743650
+SHUFFLE	COPY_MAP_DATA	337090000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5047778
+SHUFFLE	COMPRESS_BYTE_COUNT	740206
+SHUFFLE	COPY_MAP_DATA	64950000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5054816
+SHUFFLE	COMPRESS_BYTE_COUNT	741116
+SHUFFLE	COPY_MAP_DATA	9629059000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5064506
+SHUFFLE	COMPRESS_BYTE_COUNT	742655
+SHUFFLE	COPY_MAP_DATA	494551000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5057570
+SHUFFLE	COMPRESS_BYTE_COUNT	741907
+SHUFFLE	COPY_MAP_DATA	7656080152
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5082560
+SHUFFLE	COMPRESS_BYTE_COUNT	745043
+SHUFFLE	COPY_MAP_DATA	1261026000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5075522
+SHUFFLE	COMPRESS_BYTE_COUNT	744014
+SHUFFLE	COPY_MAP_DATA	43651000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5066750
+SHUFFLE	COMPRESS_BYTE_COUNT	743019
+SHUFFLE	COPY_MAP_DATA	63399000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5092760
+SHUFFLE	COMPRESS_BYTE_COUNT	746894
+SHUFFLE	COPY_MAP_DATA	3920654000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5076950
+SHUFFLE	COMPRESS_BYTE_COUNT	744727
+SHUFFLE	COPY_MAP_DATA	117118000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5088476
+SHUFFLE	COMPRESS_BYTE_COUNT	746119
+SHUFFLE	COPY_MAP_DATA	47201000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5041964
+SHUFFLE	COMPRESS_BYTE_COUNT	739498
+SHUFFLE	COPY_MAP_DATA	347303000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5003408
+SHUFFLE	COMPRESS_BYTE_COUNT	734183
+SHUFFLE	COPY_MAP_DATA	817606000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5079500
+SHUFFLE	COMPRESS_BYTE_COUNT	744938
+SHUFFLE	COPY_MAP_DATA	106973000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5067872
+SHUFFLE	COMPRESS_BYTE_COUNT	742983
+SHUFFLE	COPY_MAP_DATA	863022000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5076032
+SHUFFLE	COMPRESS_BYTE_COUNT	744513
+SHUFFLE	COPY_MAP_DATA	44491000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5077256
+SHUFFLE	COMPRESS_BYTE_COUNT	744180
+SHUFFLE	COPY_MAP_DATA	73433000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5060936
+SHUFFLE	COMPRESS_BYTE_COUNT	741814
+SHUFFLE	COPY_MAP_DATA	56537000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5082050
+SHUFFLE	COMPRESS_BYTE_COUNT	745595
+SHUFFLE	COPY_MAP_DATA	1891714000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5056754
+SHUFFLE	COMPRESS_BYTE_COUNT	741326
+SHUFFLE	COPY_MAP_DATA	246832000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5074604
+SHUFFLE	COMPRESS_BYTE_COUNT	744409
+SHUFFLE	COPY_MAP_DATA	59967000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5049104
+SHUFFLE	COMPRESS_BYTE_COUNT	740481
+SHUFFLE	COPY_MAP_DATA	254655000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5101940
+SHUFFLE	COMPRESS_BYTE_COUNT	748041
+SHUFFLE	COPY_MAP_DATA	528481000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5039720
+SHUFFLE	COMPRESS_BYTE_COUNT	739336
+SHUFFLE	COPY_MAP_DATA	65657000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5058794
+SHUFFLE	COMPRESS_BYTE_COUNT	742291
+SHUFFLE	COPY_MAP_DATA	66752000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5058794
+SHUFFLE	COMPRESS_BYTE_COUNT	741700
+SHUFFLE	COPY_MAP_DATA	2029205000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5062262
+SHUFFLE	COMPRESS_BYTE_COUNT	742423
+SHUFFLE	COPY_MAP_DATA	44856000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5044616
+SHUFFLE	COMPRESS_BYTE_COUNT	739647
+SHUFFLE	COPY_MAP_DATA	310666000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5017586
+SHUFFLE	COMPRESS_BYTE_COUNT	735768
+SHUFFLE	COPY_MAP_DATA	59892000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5057162
+SHUFFLE	COMPRESS_BYTE_COUNT	741940
+SHUFFLE	COPY_MAP_DATA	94779000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5020340
+SHUFFLE	COMPRESS_BYTE_COUNT	736304
+SHUFFLE	COPY_MAP_DATA	3132433000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5103878
+SHUFFLE	COMPRESS_BYTE_COUNT	748253
+SHUFFLE	COPY_MAP_DATA	1725869000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5043596
+SHUFFLE	COMPRESS_BYTE_COUNT	739630
+SHUFFLE	COPY_MAP_DATA	205213000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5028092
+SHUFFLE	COMPRESS_BYTE_COUNT	737085
+SHUFFLE	COPY_MAP_DATA	83287000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5025848
+SHUFFLE	COMPRESS_BYTE_COUNT	737367
+SHUFFLE	COPY_MAP_DATA	85231000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5060732
+SHUFFLE	COMPRESS_BYTE_COUNT	741874
+SHUFFLE	COPY_MAP_DATA	79557000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5043902
+SHUFFLE	COMPRESS_BYTE_COUNT	739791
+SHUFFLE	COPY_MAP_DATA	66363000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5032070
+SHUFFLE	COMPRESS_BYTE_COUNT	737686
+SHUFFLE	COPY_MAP_DATA	134591000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5058386
+SHUFFLE	COMPRESS_BYTE_COUNT	742164
+SHUFFLE	COPY_MAP_DATA	720998000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5115506
+SHUFFLE	COMPRESS_BYTE_COUNT	750343
+SHUFFLE	COPY_MAP_DATA	46147000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5084906
+SHUFFLE	COMPRESS_BYTE_COUNT	745382
+SHUFFLE	COPY_MAP_DATA	1253152000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5020952
+SHUFFLE	COMPRESS_BYTE_COUNT	736208
+SHUFFLE	COPY_MAP_DATA	213239000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5053592
+SHUFFLE	COMPRESS_BYTE_COUNT	740855
+SHUFFLE	COPY_MAP_DATA	152508000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5055122
+SHUFFLE	COMPRESS_BYTE_COUNT	741310
+SHUFFLE	COPY_MAP_DATA	208191000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5069810
+SHUFFLE	COMPRESS_BYTE_COUNT	743145
+SHUFFLE	COPY_MAP_DATA	4745548000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5086436
+SHUFFLE	COMPRESS_BYTE_COUNT	746308
+SHUFFLE	COPY_MAP_DATA	498640000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5009936
+SHUFFLE	COMPRESS_BYTE_COUNT	734931
+SHUFFLE	COPY_MAP_DATA	160680000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5079398
+SHUFFLE	COMPRESS_BYTE_COUNT	745090
+SHUFFLE	COPY_MAP_DATA	1937197000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5070932
+SHUFFLE	COMPRESS_BYTE_COUNT	743375
+SHUFFLE	COPY_MAP_DATA	111685000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5047676
+SHUFFLE	COMPRESS_BYTE_COUNT	740499
+SHUFFLE	COPY_MAP_DATA	46622000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5062262
+SHUFFLE	COMPRESS_BYTE_COUNT	741998
+SHUFFLE	COPY_MAP_DATA	68572000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5029112
+SHUFFLE	COMPRESS_BYTE_COUNT	737525
+SHUFFLE	COPY_MAP_DATA	236191000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5075012
+SHUFFLE	COMPRESS_BYTE_COUNT	744305
+SHUFFLE	COPY_MAP_DATA	102864000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5080214
+SHUFFLE	COMPRESS_BYTE_COUNT	745176
+SHUFFLE	COPY_MAP_DATA	76086000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5020340
+SHUFFLE	COMPRESS_BYTE_COUNT	729282
+SHUFFLE	COPY_MAP_DATA	50772000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5057978
+SHUFFLE	COMPRESS_BYTE_COUNT	741838
+SHUFFLE	COPY_MAP_DATA	73862000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5101532
+SHUFFLE	COMPRESS_BYTE_COUNT	747867
+SHUFFLE	COPY_MAP_DATA	1166677000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5085926
+SHUFFLE	COMPRESS_BYTE_COUNT	745796
+SHUFFLE	COPY_MAP_DATA	387191000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5037986
+SHUFFLE	COMPRESS_BYTE_COUNT	739274
+SHUFFLE	COPY_MAP_DATA	185302000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5083070
+SHUFFLE	COMPRESS_BYTE_COUNT	745317
+SHUFFLE	COPY_MAP_DATA	109455000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5064608
+SHUFFLE	COMPRESS_BYTE_COUNT	742608
+SHUFFLE	COPY_MAP_DATA	190581000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5082458
+SHUFFLE	COMPRESS_BYTE_COUNT	745612
+SHUFFLE	COPY_MAP_DATA	1452043000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1186568
+SHUFFLE	COMPRESS_BYTE_COUNT	172016
+SHUFFLE	COPY_MAP_DATA	71155000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5070524
+SHUFFLE	COMPRESS_BYTE_COUNT	743445
+SHUFFLE	COPY_MAP_DATA	44758000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5120300
+SHUFFLE	COMPRESS_BYTE_COUNT	750454
+SHUFFLE	COPY_MAP_DATA	1860734000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5055836
+SHUFFLE	COMPRESS_BYTE_COUNT	741334
+SHUFFLE	COPY_MAP_DATA	75899000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5055428
+SHUFFLE	COMPRESS_BYTE_COUNT	741125
+SHUFFLE	COPY_MAP_DATA	47588000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5060528
+SHUFFLE	COMPRESS_BYTE_COUNT	742488
+SHUFFLE	COPY_MAP_DATA	93395000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1201358
+SHUFFLE	COMPRESS_BYTE_COUNT	174241
+SHUFFLE	COPY_MAP_DATA	429272000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5039108
+SHUFFLE	COMPRESS_BYTE_COUNT	739358
+SHUFFLE	COPY_MAP_DATA	60311000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1208498
+SHUFFLE	COMPRESS_BYTE_COUNT	175218
+SHUFFLE	COPY_MAP_DATA	184296000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5033702
+SHUFFLE	COMPRESS_BYTE_COUNT	738392
+SHUFFLE	COPY_MAP_DATA	68013000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5045636
+SHUFFLE	COMPRESS_BYTE_COUNT	740380
+SHUFFLE	COPY_MAP_DATA	64176000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5051756
+SHUFFLE	COMPRESS_BYTE_COUNT	741092
+SHUFFLE	COPY_MAP_DATA	5612090000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5056040
+SHUFFLE	COMPRESS_BYTE_COUNT	741834
+SHUFFLE	COPY_MAP_DATA	166689000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5049920
+SHUFFLE	COMPRESS_BYTE_COUNT	740273
+SHUFFLE	COPY_MAP_DATA	54698000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1178816
+SHUFFLE	COMPRESS_BYTE_COUNT	170988
+SHUFFLE	COPY_MAP_DATA	118135000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5070116
+SHUFFLE	COMPRESS_BYTE_COUNT	743643
+SHUFFLE	COPY_MAP_DATA	71735000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5063078
+SHUFFLE	COMPRESS_BYTE_COUNT	742253
+SHUFFLE	COPY_MAP_DATA	98523000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5074298
+SHUFFLE	COMPRESS_BYTE_COUNT	743843
+SHUFFLE	COPY_MAP_DATA	53794000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5071238
+SHUFFLE	COMPRESS_BYTE_COUNT	743590
+SHUFFLE	COPY_MAP_DATA	2056727000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1179428
+SHUFFLE	COMPRESS_BYTE_COUNT	171091
+SHUFFLE	COPY_MAP_DATA	13251000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5069402
+SHUFFLE	COMPRESS_BYTE_COUNT	743255
+SHUFFLE	COPY_MAP_DATA	53461000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5025950
+SHUFFLE	COMPRESS_BYTE_COUNT	736923
+SHUFFLE	COPY_MAP_DATA	137036000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5087048
+SHUFFLE	COMPRESS_BYTE_COUNT	745939
+SHUFFLE	COPY_MAP_DATA	46758000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5065322
+SHUFFLE	COMPRESS_BYTE_COUNT	743052
+SHUFFLE	COPY_MAP_DATA	440473000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5029316
+SHUFFLE	COMPRESS_BYTE_COUNT	737508
+SHUFFLE	COPY_MAP_DATA	113164000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5103776
+SHUFFLE	COMPRESS_BYTE_COUNT	748281
+SHUFFLE	COPY_MAP_DATA	343169000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5073074
+SHUFFLE	COMPRESS_BYTE_COUNT	744404
+SHUFFLE	COPY_MAP_DATA	3012900000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5071850
+SHUFFLE	COMPRESS_BYTE_COUNT	743368
+SHUFFLE	COPY_MAP_DATA	5793069000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1219208
+SHUFFLE	COMPRESS_BYTE_COUNT	176670
+SHUFFLE	COPY_MAP_DATA	13403000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5095412
+SHUFFLE	COMPRESS_BYTE_COUNT	747121
+SHUFFLE	COPY_MAP_DATA	5991248000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1211864
+SHUFFLE	COMPRESS_BYTE_COUNT	175737
+SHUFFLE	COPY_MAP_DATA	12286000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1188506
+SHUFFLE	COMPRESS_BYTE_COUNT	172371
+SHUFFLE	COPY_MAP_DATA	863458000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5111018
+SHUFFLE	COMPRESS_BYTE_COUNT	749504
+SHUFFLE	COPY_MAP_DATA	76381000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5047370
+SHUFFLE	COMPRESS_BYTE_COUNT	740177
+SHUFFLE	COPY_MAP_DATA	87108000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5077256
+SHUFFLE	COMPRESS_BYTE_COUNT	744747
+SHUFFLE	COPY_MAP_DATA	155321000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5088986
+SHUFFLE	COMPRESS_BYTE_COUNT	746009
+SHUFFLE	COPY_MAP_DATA	3388623000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1194014
+SHUFFLE	COMPRESS_BYTE_COUNT	173208
+SHUFFLE	COPY_MAP_DATA	852194000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5062466
+SHUFFLE	COMPRESS_BYTE_COUNT	742384
+SHUFFLE	COPY_MAP_DATA	49185000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5032478
+SHUFFLE	COMPRESS_BYTE_COUNT	738571
+SHUFFLE	COPY_MAP_DATA	5782049000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5080316
+SHUFFLE	COMPRESS_BYTE_COUNT	744316
+SHUFFLE	COPY_MAP_DATA	53129000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5022890
+SHUFFLE	COMPRESS_BYTE_COUNT	736664
+SHUFFLE	COPY_MAP_DATA	6386802000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1195136
+SHUFFLE	COMPRESS_BYTE_COUNT	173386
+SHUFFLE	COPY_MAP_DATA	22720000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5045432
+SHUFFLE	COMPRESS_BYTE_COUNT	740005
+SHUFFLE	COPY_MAP_DATA	45968000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5054816
+SHUFFLE	COMPRESS_BYTE_COUNT	741504
+SHUFFLE	COPY_MAP_DATA	49090000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1194218
+SHUFFLE	COMPRESS_BYTE_COUNT	173337
+SHUFFLE	COPY_MAP_DATA	12579000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5066546
+SHUFFLE	COMPRESS_BYTE_COUNT	743067
+SHUFFLE	COPY_MAP_DATA	172744000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5045126
+SHUFFLE	COMPRESS_BYTE_COUNT	739461
+SHUFFLE	COPY_MAP_DATA	86934000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5074196
+SHUFFLE	COMPRESS_BYTE_COUNT	744370
+SHUFFLE	COPY_MAP_DATA	501891000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1192382
+SHUFFLE	COMPRESS_BYTE_COUNT	172892
+SHUFFLE	COPY_MAP_DATA	69021000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1206050
+SHUFFLE	COMPRESS_BYTE_COUNT	174963
+SHUFFLE	COPY_MAP_DATA	119162000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5109182
+SHUFFLE	COMPRESS_BYTE_COUNT	748764
+SHUFFLE	COPY_MAP_DATA	49581000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1194014
+SHUFFLE	COMPRESS_BYTE_COUNT	173264
+SHUFFLE	COPY_MAP_DATA	53728000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5084804
+SHUFFLE	COMPRESS_BYTE_COUNT	745854
+SHUFFLE	COPY_MAP_DATA	550393000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1197584
+SHUFFLE	COMPRESS_BYTE_COUNT	173744
+SHUFFLE	COPY_MAP_DATA	13001000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1193504
+SHUFFLE	COMPRESS_BYTE_COUNT	173218
+SHUFFLE	COPY_MAP_DATA	32169000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1186568
+SHUFFLE	COMPRESS_BYTE_COUNT	172077
+SHUFFLE	COPY_MAP_DATA	1078755000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1187180
+SHUFFLE	COMPRESS_BYTE_COUNT	172276
+SHUFFLE	COPY_MAP_DATA	31430000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1211456
+SHUFFLE	COMPRESS_BYTE_COUNT	175687
+SHUFFLE	COPY_MAP_DATA	13840000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5068382
+SHUFFLE	COMPRESS_BYTE_COUNT	743412
+SHUFFLE	COPY_MAP_DATA	57283000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5031968
+SHUFFLE	COMPRESS_BYTE_COUNT	738134
+SHUFFLE	COPY_MAP_DATA	1102492000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5084600
+SHUFFLE	COMPRESS_BYTE_COUNT	745371
+SHUFFLE	COPY_MAP_DATA	107146000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1189118
+SHUFFLE	COMPRESS_BYTE_COUNT	172546
+SHUFFLE	COPY_MAP_DATA	35266000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1191158
+SHUFFLE	COMPRESS_BYTE_COUNT	172789
+SHUFFLE	COPY_MAP_DATA	155294000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1194728
+SHUFFLE	COMPRESS_BYTE_COUNT	173447
+SHUFFLE	COPY_MAP_DATA	42985000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5078480
+SHUFFLE	COMPRESS_BYTE_COUNT	745111
+SHUFFLE	COPY_MAP_DATA	48935000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5046248
+SHUFFLE	COMPRESS_BYTE_COUNT	740046
+SHUFFLE	COPY_MAP_DATA	1586286000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5111834
+SHUFFLE	COMPRESS_BYTE_COUNT	749798
+SHUFFLE	COPY_MAP_DATA	282897000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1195340
+SHUFFLE	COMPRESS_BYTE_COUNT	173403
+SHUFFLE	COPY_MAP_DATA	9406849000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1167800
+SHUFFLE	COMPRESS_BYTE_COUNT	169432
+SHUFFLE	COPY_MAP_DATA	20646000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1179836
+SHUFFLE	COMPRESS_BYTE_COUNT	171235
+SHUFFLE	COPY_MAP_DATA	21921000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5056856
+SHUFFLE	COMPRESS_BYTE_COUNT	741570
+SHUFFLE	COPY_MAP_DATA	4918514000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5124686
+SHUFFLE	COMPRESS_BYTE_COUNT	751252
+SHUFFLE	COPY_MAP_DATA	168672000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1192076
+SHUFFLE	COMPRESS_BYTE_COUNT	173009
+SHUFFLE	COPY_MAP_DATA	24882000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1174430
+SHUFFLE	COMPRESS_BYTE_COUNT	170434
+SHUFFLE	COPY_MAP_DATA	67139000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1184936
+SHUFFLE	COMPRESS_BYTE_COUNT	171900
+SHUFFLE	COPY_MAP_DATA	12800000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1192076
+SHUFFLE	COMPRESS_BYTE_COUNT	173013
+SHUFFLE	COPY_MAP_DATA	152867000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5041760
+SHUFFLE	COMPRESS_BYTE_COUNT	739820
+SHUFFLE	COPY_MAP_DATA	276971000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1202174
+SHUFFLE	COMPRESS_BYTE_COUNT	174401
+SHUFFLE	COPY_MAP_DATA	28216000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1191770
+SHUFFLE	COMPRESS_BYTE_COUNT	172778
+SHUFFLE	COPY_MAP_DATA	705410000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5104490
+SHUFFLE	COMPRESS_BYTE_COUNT	748260
+SHUFFLE	COPY_MAP_DATA	1260460000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1192178
+SHUFFLE	COMPRESS_BYTE_COUNT	173034
+SHUFFLE	COPY_MAP_DATA	16144000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1185038
+SHUFFLE	COMPRESS_BYTE_COUNT	171950
+SHUFFLE	COPY_MAP_DATA	12761000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1188200
+SHUFFLE	COMPRESS_BYTE_COUNT	172391
+SHUFFLE	COPY_MAP_DATA	14999000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1194932
+SHUFFLE	COMPRESS_BYTE_COUNT	173415
+SHUFFLE	COPY_MAP_DATA	32356000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5092046
+SHUFFLE	COMPRESS_BYTE_COUNT	746771
+SHUFFLE	COPY_MAP_DATA	158368000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1202990
+SHUFFLE	COMPRESS_BYTE_COUNT	174566
+SHUFFLE	COPY_MAP_DATA	40465000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1186568
+SHUFFLE	COMPRESS_BYTE_COUNT	172114
+SHUFFLE	COPY_MAP_DATA	30851000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1189934
+SHUFFLE	COMPRESS_BYTE_COUNT	172603
+SHUFFLE	COPY_MAP_DATA	97578000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5063690
+SHUFFLE	COMPRESS_BYTE_COUNT	742963
+SHUFFLE	COPY_MAP_DATA	244542000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1186772
+SHUFFLE	COMPRESS_BYTE_COUNT	172045
+SHUFFLE	COPY_MAP_DATA	164231000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1199420
+SHUFFLE	COMPRESS_BYTE_COUNT	174090
+SHUFFLE	COPY_MAP_DATA	575569000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1204316
+SHUFFLE	COMPRESS_BYTE_COUNT	174625
+SHUFFLE	COPY_MAP_DATA	284246000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1205540
+SHUFFLE	COMPRESS_BYTE_COUNT	174921
+SHUFFLE	COPY_MAP_DATA	1058949000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1200440
+SHUFFLE	COMPRESS_BYTE_COUNT	174216
+SHUFFLE	COPY_MAP_DATA	14463000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1184018
+SHUFFLE	COMPRESS_BYTE_COUNT	171742
+SHUFFLE	COPY_MAP_DATA	375460000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1211456
+SHUFFLE	COMPRESS_BYTE_COUNT	175700
+SHUFFLE	COPY_MAP_DATA	19852000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1187384
+SHUFFLE	COMPRESS_BYTE_COUNT	172326
+SHUFFLE	COPY_MAP_DATA	61573000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1196156
+SHUFFLE	COMPRESS_BYTE_COUNT	173550
+SHUFFLE	COPY_MAP_DATA	11195000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1207580
+SHUFFLE	COMPRESS_BYTE_COUNT	175180
+SHUFFLE	COPY_MAP_DATA	629636000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5095310
+SHUFFLE	COMPRESS_BYTE_COUNT	746750
+SHUFFLE	COPY_MAP_DATA	298838000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1193198
+SHUFFLE	COMPRESS_BYTE_COUNT	173165
+SHUFFLE	COPY_MAP_DATA	13270000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5070932
+SHUFFLE	COMPRESS_BYTE_COUNT	743471
+SHUFFLE	COPY_MAP_DATA	61090000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1209110
+SHUFFLE	COMPRESS_BYTE_COUNT	175363
+SHUFFLE	COPY_MAP_DATA	106985000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1179326
+SHUFFLE	COMPRESS_BYTE_COUNT	171123
+SHUFFLE	COPY_MAP_DATA	28716000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1219310
+SHUFFLE	COMPRESS_BYTE_COUNT	176932
+SHUFFLE	COPY_MAP_DATA	24408000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5051756
+SHUFFLE	COMPRESS_BYTE_COUNT	741204
+SHUFFLE	COPY_MAP_DATA	274261000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1190750
+SHUFFLE	COMPRESS_BYTE_COUNT	172715
+SHUFFLE	COPY_MAP_DATA	13629000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1181774
+SHUFFLE	COMPRESS_BYTE_COUNT	171497
+SHUFFLE	COPY_MAP_DATA	12953000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5090516
+SHUFFLE	COMPRESS_BYTE_COUNT	746459
+SHUFFLE	COPY_MAP_DATA	50779000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5032988
+SHUFFLE	COMPRESS_BYTE_COUNT	738481
+SHUFFLE	COPY_MAP_DATA	55401000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1192892
+SHUFFLE	COMPRESS_BYTE_COUNT	173155
+SHUFFLE	COPY_MAP_DATA	12666000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1186670
+SHUFFLE	COMPRESS_BYTE_COUNT	172090
+SHUFFLE	COPY_MAP_DATA	14265000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1183916
+SHUFFLE	COMPRESS_BYTE_COUNT	171821
+SHUFFLE	COPY_MAP_DATA	14092000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1209110
+SHUFFLE	COMPRESS_BYTE_COUNT	175336
+SHUFFLE	COPY_MAP_DATA	14204000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1195952
+SHUFFLE	COMPRESS_BYTE_COUNT	173532
+SHUFFLE	COPY_MAP_DATA	71568000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1186772
+SHUFFLE	COMPRESS_BYTE_COUNT	172136
+SHUFFLE	COPY_MAP_DATA	14412000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1195544
+SHUFFLE	COMPRESS_BYTE_COUNT	173510
+SHUFFLE	COPY_MAP_DATA	161977000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1153928
+SHUFFLE	COMPRESS_BYTE_COUNT	167413
+SHUFFLE	COPY_MAP_DATA	49021000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1197482
+SHUFFLE	COMPRESS_BYTE_COUNT	173823
+SHUFFLE	COPY_MAP_DATA	30773000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5064200
+SHUFFLE	COMPRESS_BYTE_COUNT	742652
+SHUFFLE	COPY_MAP_DATA	164215000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1203398
+SHUFFLE	COMPRESS_BYTE_COUNT	174501
+SHUFFLE	COPY_MAP_DATA	178917000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1187690
+SHUFFLE	COMPRESS_BYTE_COUNT	172308
+SHUFFLE	COPY_MAP_DATA	338726000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1198910
+SHUFFLE	COMPRESS_BYTE_COUNT	174068
+SHUFFLE	COPY_MAP_DATA	34690000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1181468
+SHUFFLE	COMPRESS_BYTE_COUNT	171504
+SHUFFLE	COPY_MAP_DATA	13474000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1173308
+SHUFFLE	COMPRESS_BYTE_COUNT	170177
+SHUFFLE	COPY_MAP_DATA	12297000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1192076
+SHUFFLE	COMPRESS_BYTE_COUNT	172950
+SHUFFLE	COPY_MAP_DATA	25329000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1202582
+SHUFFLE	COMPRESS_BYTE_COUNT	174329
+SHUFFLE	COPY_MAP_DATA	13374000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1203908
+SHUFFLE	COMPRESS_BYTE_COUNT	174618
+SHUFFLE	COPY_MAP_DATA	12987000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1176062
+SHUFFLE	COMPRESS_BYTE_COUNT	170598
+SHUFFLE	COPY_MAP_DATA	12830000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1186160
+SHUFFLE	COMPRESS_BYTE_COUNT	171991
+SHUFFLE	COPY_MAP_DATA	13795000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1174634
+SHUFFLE	COMPRESS_BYTE_COUNT	170370
+SHUFFLE	COPY_MAP_DATA	15023000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1205948
+SHUFFLE	COMPRESS_BYTE_COUNT	175054
+SHUFFLE	COPY_MAP_DATA	13190000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1199930
+SHUFFLE	COMPRESS_BYTE_COUNT	174134
+SHUFFLE	COPY_MAP_DATA	16378000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1188506
+SHUFFLE	COMPRESS_BYTE_COUNT	172511
+SHUFFLE	COPY_MAP_DATA	13174000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1197176
+SHUFFLE	COMPRESS_BYTE_COUNT	173633
+SHUFFLE	COPY_MAP_DATA	13112000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1198808
+SHUFFLE	COMPRESS_BYTE_COUNT	173876
+SHUFFLE	COPY_MAP_DATA	71853000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1205540
+SHUFFLE	COMPRESS_BYTE_COUNT	174973
+SHUFFLE	COPY_MAP_DATA	12665000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1199828
+SHUFFLE	COMPRESS_BYTE_COUNT	173963
+SHUFFLE	COPY_MAP_DATA	12208000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1202480
+SHUFFLE	COMPRESS_BYTE_COUNT	174545
+SHUFFLE	COPY_MAP_DATA	303515000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1179530
+SHUFFLE	COMPRESS_BYTE_COUNT	171132
+SHUFFLE	COPY_MAP_DATA	89131000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1191464
+SHUFFLE	COMPRESS_BYTE_COUNT	172674
+SHUFFLE	COPY_MAP_DATA	22060000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1189220
+SHUFFLE	COMPRESS_BYTE_COUNT	172507
+SHUFFLE	COPY_MAP_DATA	105949000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1208498
+SHUFFLE	COMPRESS_BYTE_COUNT	175406
+SHUFFLE	COPY_MAP_DATA	51273000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1179020
+SHUFFLE	COMPRESS_BYTE_COUNT	171063
+SHUFFLE	COPY_MAP_DATA	12847000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1194830
+SHUFFLE	COMPRESS_BYTE_COUNT	173311
+SHUFFLE	COPY_MAP_DATA	31924000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1187588
+SHUFFLE	COMPRESS_BYTE_COUNT	172369
+SHUFFLE	COPY_MAP_DATA	12768000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1208396
+SHUFFLE	COMPRESS_BYTE_COUNT	175370
+SHUFFLE	COPY_MAP_DATA	12497000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1196360
+SHUFFLE	COMPRESS_BYTE_COUNT	173585
+SHUFFLE	COPY_MAP_DATA	14553000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1221044
+SHUFFLE	COMPRESS_BYTE_COUNT	177194
+SHUFFLE	COPY_MAP_DATA	20197000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1173002
+SHUFFLE	COMPRESS_BYTE_COUNT	170291
+SHUFFLE	COPY_MAP_DATA	21096000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1198298
+SHUFFLE	COMPRESS_BYTE_COUNT	173712
+SHUFFLE	COPY_MAP_DATA	32376000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1197686
+SHUFFLE	COMPRESS_BYTE_COUNT	173764
+SHUFFLE	COPY_MAP_DATA	50831000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1190240
+SHUFFLE	COMPRESS_BYTE_COUNT	172698
+SHUFFLE	COPY_MAP_DATA	12734000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1175858
+SHUFFLE	COMPRESS_BYTE_COUNT	170705
+SHUFFLE	COPY_MAP_DATA	12744000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1197074
+SHUFFLE	COMPRESS_BYTE_COUNT	173595
+SHUFFLE	COPY_MAP_DATA	11770000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1183712
+SHUFFLE	COMPRESS_BYTE_COUNT	171653
+SHUFFLE	COPY_MAP_DATA	11146000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1194830
+SHUFFLE	COMPRESS_BYTE_COUNT	173323
+SHUFFLE	COPY_MAP_DATA	13715000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	295808152152
+MERGE	READ_WRITE	285038615152
+MERGE	READ_WRITE_COUNT	8
+MERGE	COMBINE	0
+MERGE	WRITE	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	10998154000
+SORT	READ_WRITE	9953147000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	106676888
+REDUCE	SETUP	316000
+REDUCE	SETUP_MEM	106676888
+REDUCE	CLEANUP	48000
+REDUCE	CLEANUP_MEM	88793448
+REDUCE	TOTAL_RUN	261326727152
+REDUCE	READ	47607765696
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	135978383152
+REDUCE	WRITE	77361370000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	110993070
+REDUCE	VALUE_BYTE_COUNT	976739016
+REDUCE	REDUCE_MEM	88793448
+REDUCE	WRITE	314649000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	814294882152
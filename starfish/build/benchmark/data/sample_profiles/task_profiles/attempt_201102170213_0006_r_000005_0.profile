@@ -0,0 +1,1229 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5049410
+SHUFFLE	COMPRESS_BYTE_COUNT	740437
+SHUFFLE	COPY_MAP_DATA	824969000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5103368
+SHUFFLE	COMPRESS_BYTE_COUNT	748774
+SHUFFLE	COPY_MAP_DATA	68621000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5072972
+SHUFFLE	COMPRESS_BYTE_COUNT	744078
+SHUFFLE	COPY_MAP_DATA	252176000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5097962
+SHUFFLE	COMPRESS_BYTE_COUNT	747952
+SHUFFLE	COPY_MAP_DATA	63061000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5051654
+SHUFFLE	COMPRESS_BYTE_COUNT	740519
+SHUFFLE	COPY_MAP_DATA	154070000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5076950
+SHUFFLE	COMPRESS_BYTE_COUNT	744534
+SHUFFLE	COPY_MAP_DATA	55143000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5098064
+SHUFFLE	COMPRESS_BYTE_COUNT	747998
+SHUFFLE	COPY_MAP_DATA	64983000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5050838
+SHUFFLE	COMPRESS_BYTE_COUNT	740777
+SHUFFLE	COPY_MAP_DATA	93636000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5081642
+SHUFFLE	COMPRESS_BYTE_COUNT	745129
+SHUFFLE	COPY_MAP_DATA	133475000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5086130
+SHUFFLE	COMPRESS_BYTE_COUNT	746295
+SHUFFLE	COPY_MAP_DATA	194585000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5085008
+SHUFFLE	COMPRESS_BYTE_COUNT	745878
+SHUFFLE	COPY_MAP_DATA	253767000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5081336
+SHUFFLE	COMPRESS_BYTE_COUNT	745589
+SHUFFLE	COPY_MAP_DATA	127557000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5072666
+SHUFFLE	COMPRESS_BYTE_COUNT	744569
+SHUFFLE	COPY_MAP_DATA	63932000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5101022
+SHUFFLE	COMPRESS_BYTE_COUNT	748030
+SHUFFLE	COPY_MAP_DATA	126694000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5094902
+SHUFFLE	COMPRESS_BYTE_COUNT	747411
+SHUFFLE	COPY_MAP_DATA	56850000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5130806
+SHUFFLE	COMPRESS_BYTE_COUNT	752588
+SHUFFLE	COPY_MAP_DATA	48436000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5043902
+SHUFFLE	COMPRESS_BYTE_COUNT	740060
+SHUFFLE	COPY_MAP_DATA	47668000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5055326
+SHUFFLE	COMPRESS_BYTE_COUNT	741545
+SHUFFLE	COPY_MAP_DATA	45015000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5032886
+SHUFFLE	COMPRESS_BYTE_COUNT	738662
+SHUFFLE	COPY_MAP_DATA	226593000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5083886
+SHUFFLE	COMPRESS_BYTE_COUNT	745948
+SHUFFLE	COPY_MAP_DATA	74389000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5072666
+SHUFFLE	COMPRESS_BYTE_COUNT	744089
+SHUFFLE	COPY_MAP_DATA	198444000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5086844
+SHUFFLE	COMPRESS_BYTE_COUNT	746122
+SHUFFLE	COPY_MAP_DATA	51734000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5099594
+SHUFFLE	COMPRESS_BYTE_COUNT	748403
+SHUFFLE	COPY_MAP_DATA	56172000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5071646
+SHUFFLE	COMPRESS_BYTE_COUNT	744305
+SHUFFLE	COPY_MAP_DATA	59480000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5050634
+SHUFFLE	COMPRESS_BYTE_COUNT	740745
+SHUFFLE	COPY_MAP_DATA	68008000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5075420
+SHUFFLE	COMPRESS_BYTE_COUNT	744343
+SHUFFLE	COPY_MAP_DATA	3067178000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5040230
+SHUFFLE	COMPRESS_BYTE_COUNT	739284
+SHUFFLE	COPY_MAP_DATA	938046000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5102042
+SHUFFLE	COMPRESS_BYTE_COUNT	748217
+SHUFFLE	COPY_MAP_DATA	448802000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5087456
+SHUFFLE	COMPRESS_BYTE_COUNT	746452
+SHUFFLE	COPY_MAP_DATA	2405424000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5023604
+SHUFFLE	COMPRESS_BYTE_COUNT	737021
+SHUFFLE	COPY_MAP_DATA	4300101000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5070524
+SHUFFLE	COMPRESS_BYTE_COUNT	744129
+SHUFFLE	COPY_MAP_DATA	46378000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5060222
+SHUFFLE	COMPRESS_BYTE_COUNT	742176
+SHUFFLE	COPY_MAP_DATA	96264000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5070422
+SHUFFLE	COMPRESS_BYTE_COUNT	743751
+SHUFFLE	COPY_MAP_DATA	113738000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5073176
+SHUFFLE	COMPRESS_BYTE_COUNT	744187
+SHUFFLE	COPY_MAP_DATA	45098000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5112038
+SHUFFLE	COMPRESS_BYTE_COUNT	749921
+SHUFFLE	COPY_MAP_DATA	155515000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5081438
+SHUFFLE	COMPRESS_BYTE_COUNT	745192
+SHUFFLE	COPY_MAP_DATA	674118000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5063690
+SHUFFLE	COMPRESS_BYTE_COUNT	742730
+SHUFFLE	COPY_MAP_DATA	134057000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5066138
+SHUFFLE	COMPRESS_BYTE_COUNT	743449
+SHUFFLE	COPY_MAP_DATA	68313000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5082866
+SHUFFLE	COMPRESS_BYTE_COUNT	745926
+SHUFFLE	COPY_MAP_DATA	80835000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5079908
+SHUFFLE	COMPRESS_BYTE_COUNT	744740
+SHUFFLE	COPY_MAP_DATA	4276769000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5053796
+SHUFFLE	COMPRESS_BYTE_COUNT	741873
+SHUFFLE	COPY_MAP_DATA	47164000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5122952
+SHUFFLE	COMPRESS_BYTE_COUNT	751087
+SHUFFLE	COPY_MAP_DATA	60411000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5115608
+SHUFFLE	COMPRESS_BYTE_COUNT	750145
+SHUFFLE	COPY_MAP_DATA	121604000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5058284
+SHUFFLE	COMPRESS_BYTE_COUNT	742025
+SHUFFLE	COPY_MAP_DATA	831289000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5115914
+SHUFFLE	COMPRESS_BYTE_COUNT	750546
+SHUFFLE	COPY_MAP_DATA	50350000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5093066
+SHUFFLE	COMPRESS_BYTE_COUNT	747539
+SHUFFLE	COPY_MAP_DATA	46490000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5066342
+SHUFFLE	COMPRESS_BYTE_COUNT	743336
+SHUFFLE	COPY_MAP_DATA	145533000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5082050
+SHUFFLE	COMPRESS_BYTE_COUNT	745685
+SHUFFLE	COPY_MAP_DATA	750158000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5093270
+SHUFFLE	COMPRESS_BYTE_COUNT	746619
+SHUFFLE	COPY_MAP_DATA	42267000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5040944
+SHUFFLE	COMPRESS_BYTE_COUNT	739124
+SHUFFLE	COPY_MAP_DATA	69615000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5066750
+SHUFFLE	COMPRESS_BYTE_COUNT	743161
+SHUFFLE	COPY_MAP_DATA	46034000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5066648
+SHUFFLE	COMPRESS_BYTE_COUNT	742836
+SHUFFLE	COPY_MAP_DATA	142695000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5050124
+SHUFFLE	COMPRESS_BYTE_COUNT	741020
+SHUFFLE	COPY_MAP_DATA	190945000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5115098
+SHUFFLE	COMPRESS_BYTE_COUNT	750117
+SHUFFLE	COPY_MAP_DATA	331411000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5084600
+SHUFFLE	COMPRESS_BYTE_COUNT	746112
+SHUFFLE	COPY_MAP_DATA	119861000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5120606
+SHUFFLE	COMPRESS_BYTE_COUNT	750782
+SHUFFLE	COPY_MAP_DATA	62214000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5113058
+SHUFFLE	COMPRESS_BYTE_COUNT	749723
+SHUFFLE	COPY_MAP_DATA	1587274000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5058590
+SHUFFLE	COMPRESS_BYTE_COUNT	737527
+SHUFFLE	COPY_MAP_DATA	49306000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5052776
+SHUFFLE	COMPRESS_BYTE_COUNT	741240
+SHUFFLE	COPY_MAP_DATA	59562000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5070932
+SHUFFLE	COMPRESS_BYTE_COUNT	744042
+SHUFFLE	COPY_MAP_DATA	491534000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5091026
+SHUFFLE	COMPRESS_BYTE_COUNT	746901
+SHUFFLE	COPY_MAP_DATA	43457000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5087762
+SHUFFLE	COMPRESS_BYTE_COUNT	746616
+SHUFFLE	COPY_MAP_DATA	43338000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5069504
+SHUFFLE	COMPRESS_BYTE_COUNT	743637
+SHUFFLE	COPY_MAP_DATA	94922000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5068994
+SHUFFLE	COMPRESS_BYTE_COUNT	743414
+SHUFFLE	COPY_MAP_DATA	42353000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5060222
+SHUFFLE	COMPRESS_BYTE_COUNT	742435
+SHUFFLE	COPY_MAP_DATA	52364000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5059100
+SHUFFLE	COMPRESS_BYTE_COUNT	742144
+SHUFFLE	COPY_MAP_DATA	50791000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5099186
+SHUFFLE	COMPRESS_BYTE_COUNT	748192
+SHUFFLE	COPY_MAP_DATA	180853000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5066546
+SHUFFLE	COMPRESS_BYTE_COUNT	743119
+SHUFFLE	COPY_MAP_DATA	44259000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5075012
+SHUFFLE	COMPRESS_BYTE_COUNT	744756
+SHUFFLE	COPY_MAP_DATA	3328310000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5091434
+SHUFFLE	COMPRESS_BYTE_COUNT	746755
+SHUFFLE	COPY_MAP_DATA	453175000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5123870
+SHUFFLE	COMPRESS_BYTE_COUNT	751968
+SHUFFLE	COPY_MAP_DATA	7913655000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5089292
+SHUFFLE	COMPRESS_BYTE_COUNT	746254
+SHUFFLE	COPY_MAP_DATA	50308000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5109386
+SHUFFLE	COMPRESS_BYTE_COUNT	749392
+SHUFFLE	COPY_MAP_DATA	157468000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5029622
+SHUFFLE	COMPRESS_BYTE_COUNT	737335
+SHUFFLE	COPY_MAP_DATA	6952928000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5073176
+SHUFFLE	COMPRESS_BYTE_COUNT	744073
+SHUFFLE	COPY_MAP_DATA	45874000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5097146
+SHUFFLE	COMPRESS_BYTE_COUNT	747545
+SHUFFLE	COPY_MAP_DATA	49793000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5066852
+SHUFFLE	COMPRESS_BYTE_COUNT	743619
+SHUFFLE	COPY_MAP_DATA	46037000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5114384
+SHUFFLE	COMPRESS_BYTE_COUNT	750096
+SHUFFLE	COPY_MAP_DATA	48687000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5099798
+SHUFFLE	COMPRESS_BYTE_COUNT	748227
+SHUFFLE	COPY_MAP_DATA	44670000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5056958
+SHUFFLE	COMPRESS_BYTE_COUNT	741627
+SHUFFLE	COPY_MAP_DATA	58612000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5082866
+SHUFFLE	COMPRESS_BYTE_COUNT	745791
+SHUFFLE	COPY_MAP_DATA	52831000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5107754
+SHUFFLE	COMPRESS_BYTE_COUNT	749421
+SHUFFLE	COPY_MAP_DATA	43877000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5054918
+SHUFFLE	COMPRESS_BYTE_COUNT	741324
+SHUFFLE	COPY_MAP_DATA	8726226000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5065526
+SHUFFLE	COMPRESS_BYTE_COUNT	742933
+SHUFFLE	COPY_MAP_DATA	75481000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5036558
+SHUFFLE	COMPRESS_BYTE_COUNT	739176
+SHUFFLE	COPY_MAP_DATA	5033050000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5076746
+SHUFFLE	COMPRESS_BYTE_COUNT	744448
+SHUFFLE	COPY_MAP_DATA	600069000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5056142
+SHUFFLE	COMPRESS_BYTE_COUNT	741459
+SHUFFLE	COPY_MAP_DATA	7527272000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5100104
+SHUFFLE	COMPRESS_BYTE_COUNT	747833
+SHUFFLE	COPY_MAP_DATA	65523000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5117954
+SHUFFLE	COMPRESS_BYTE_COUNT	750749
+SHUFFLE	COPY_MAP_DATA	238488000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5108162
+SHUFFLE	COMPRESS_BYTE_COUNT	749135
+SHUFFLE	COPY_MAP_DATA	741246000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5078276
+SHUFFLE	COMPRESS_BYTE_COUNT	745336
+SHUFFLE	COPY_MAP_DATA	204475000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5046452
+SHUFFLE	COMPRESS_BYTE_COUNT	740270
+SHUFFLE	COPY_MAP_DATA	2613057000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5080316
+SHUFFLE	COMPRESS_BYTE_COUNT	744992
+SHUFFLE	COPY_MAP_DATA	150285000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5121014
+SHUFFLE	COMPRESS_BYTE_COUNT	751225
+SHUFFLE	COPY_MAP_DATA	1090514000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5079194
+SHUFFLE	COMPRESS_BYTE_COUNT	745258
+SHUFFLE	COPY_MAP_DATA	125463000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5089496
+SHUFFLE	COMPRESS_BYTE_COUNT	746422
+SHUFFLE	COPY_MAP_DATA	101452000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5041352
+SHUFFLE	COMPRESS_BYTE_COUNT	739891
+SHUFFLE	COPY_MAP_DATA	815339000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5094800
+SHUFFLE	COMPRESS_BYTE_COUNT	747304
+SHUFFLE	COPY_MAP_DATA	3800637000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5070218
+SHUFFLE	COMPRESS_BYTE_COUNT	744165
+SHUFFLE	COPY_MAP_DATA	105366000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5095514
+SHUFFLE	COMPRESS_BYTE_COUNT	747182
+SHUFFLE	COPY_MAP_DATA	89170000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5067566
+SHUFFLE	COMPRESS_BYTE_COUNT	743329
+SHUFFLE	COPY_MAP_DATA	50789000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5095718
+SHUFFLE	COMPRESS_BYTE_COUNT	747415
+SHUFFLE	COPY_MAP_DATA	755933000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5073584
+SHUFFLE	COMPRESS_BYTE_COUNT	744159
+SHUFFLE	COPY_MAP_DATA	209424000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5066036
+SHUFFLE	COMPRESS_BYTE_COUNT	743199
+SHUFFLE	COPY_MAP_DATA	53169000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5075114
+SHUFFLE	COMPRESS_BYTE_COUNT	744276
+SHUFFLE	COPY_MAP_DATA	47975000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5068280
+SHUFFLE	COMPRESS_BYTE_COUNT	743219
+SHUFFLE	COPY_MAP_DATA	43692000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5075114
+SHUFFLE	COMPRESS_BYTE_COUNT	744208
+SHUFFLE	COPY_MAP_DATA	521713000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5076746
+SHUFFLE	COMPRESS_BYTE_COUNT	745016
+SHUFFLE	COPY_MAP_DATA	171743000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5045636
+SHUFFLE	COMPRESS_BYTE_COUNT	740132
+SHUFFLE	COPY_MAP_DATA	75172000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5083376
+SHUFFLE	COMPRESS_BYTE_COUNT	745991
+SHUFFLE	COPY_MAP_DATA	212445000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5057468
+SHUFFLE	COMPRESS_BYTE_COUNT	742098
+SHUFFLE	COPY_MAP_DATA	420416000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5100614
+SHUFFLE	COMPRESS_BYTE_COUNT	747887
+SHUFFLE	COPY_MAP_DATA	55021000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5125910
+SHUFFLE	COMPRESS_BYTE_COUNT	751529
+SHUFFLE	COPY_MAP_DATA	47940000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5048696
+SHUFFLE	COMPRESS_BYTE_COUNT	740410
+SHUFFLE	COPY_MAP_DATA	44258000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5069096
+SHUFFLE	COMPRESS_BYTE_COUNT	743435
+SHUFFLE	COPY_MAP_DATA	50761000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5061752
+SHUFFLE	COMPRESS_BYTE_COUNT	742581
+SHUFFLE	COPY_MAP_DATA	894945000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5082560
+SHUFFLE	COMPRESS_BYTE_COUNT	745330
+SHUFFLE	COPY_MAP_DATA	117644000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5085212
+SHUFFLE	COMPRESS_BYTE_COUNT	745903
+SHUFFLE	COPY_MAP_DATA	81695000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5067056
+SHUFFLE	COMPRESS_BYTE_COUNT	743454
+SHUFFLE	COPY_MAP_DATA	558737000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5041046
+SHUFFLE	COMPRESS_BYTE_COUNT	739629
+SHUFFLE	COPY_MAP_DATA	421717000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5083478
+SHUFFLE	COMPRESS_BYTE_COUNT	746137
+SHUFFLE	COPY_MAP_DATA	91544000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5046962
+SHUFFLE	COMPRESS_BYTE_COUNT	740281
+SHUFFLE	COPY_MAP_DATA	46636000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5098268
+SHUFFLE	COMPRESS_BYTE_COUNT	747472
+SHUFFLE	COPY_MAP_DATA	59301000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5108978
+SHUFFLE	COMPRESS_BYTE_COUNT	749497
+SHUFFLE	COPY_MAP_DATA	964786000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5102348
+SHUFFLE	COMPRESS_BYTE_COUNT	748156
+SHUFFLE	COPY_MAP_DATA	45950000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5112752
+SHUFFLE	COMPRESS_BYTE_COUNT	749420
+SHUFFLE	COPY_MAP_DATA	62367000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5082560
+SHUFFLE	COMPRESS_BYTE_COUNT	745492
+SHUFFLE	COPY_MAP_DATA	1673585000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5072360
+SHUFFLE	COMPRESS_BYTE_COUNT	744163
+SHUFFLE	COPY_MAP_DATA	1510023000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5086538
+SHUFFLE	COMPRESS_BYTE_COUNT	746234
+SHUFFLE	COPY_MAP_DATA	63153000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5092964
+SHUFFLE	COMPRESS_BYTE_COUNT	746979
+SHUFFLE	COPY_MAP_DATA	1574689000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5072054
+SHUFFLE	COMPRESS_BYTE_COUNT	744200
+SHUFFLE	COPY_MAP_DATA	51416000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5062670
+SHUFFLE	COMPRESS_BYTE_COUNT	742978
+SHUFFLE	COPY_MAP_DATA	176930000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5106734
+SHUFFLE	COMPRESS_BYTE_COUNT	749200
+SHUFFLE	COPY_MAP_DATA	92521000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5119076
+SHUFFLE	COMPRESS_BYTE_COUNT	750842
+SHUFFLE	COPY_MAP_DATA	45886000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5061140
+SHUFFLE	COMPRESS_BYTE_COUNT	741995
+SHUFFLE	COPY_MAP_DATA	46172000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5086640
+SHUFFLE	COMPRESS_BYTE_COUNT	739262
+SHUFFLE	COPY_MAP_DATA	46452000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5073788
+SHUFFLE	COMPRESS_BYTE_COUNT	744371
+SHUFFLE	COPY_MAP_DATA	239280000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5118158
+SHUFFLE	COMPRESS_BYTE_COUNT	750402
+SHUFFLE	COPY_MAP_DATA	54276000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5083376
+SHUFFLE	COMPRESS_BYTE_COUNT	745717
+SHUFFLE	COPY_MAP_DATA	110876000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5102858
+SHUFFLE	COMPRESS_BYTE_COUNT	748733
+SHUFFLE	COPY_MAP_DATA	99611000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5113568
+SHUFFLE	COMPRESS_BYTE_COUNT	749839
+SHUFFLE	COPY_MAP_DATA	144827000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5053286
+SHUFFLE	COMPRESS_BYTE_COUNT	741277
+SHUFFLE	COPY_MAP_DATA	13100130000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5072666
+SHUFFLE	COMPRESS_BYTE_COUNT	743765
+SHUFFLE	COPY_MAP_DATA	43625000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5071442
+SHUFFLE	COMPRESS_BYTE_COUNT	744223
+SHUFFLE	COPY_MAP_DATA	53404000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5093066
+SHUFFLE	COMPRESS_BYTE_COUNT	746896
+SHUFFLE	COPY_MAP_DATA	43196000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1195952
+SHUFFLE	COMPRESS_BYTE_COUNT	173577
+SHUFFLE	COPY_MAP_DATA	11521000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1191056
+SHUFFLE	COMPRESS_BYTE_COUNT	172984
+SHUFFLE	COPY_MAP_DATA	284657000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5069912
+SHUFFLE	COMPRESS_BYTE_COUNT	744270
+SHUFFLE	COPY_MAP_DATA	53574000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5063078
+SHUFFLE	COMPRESS_BYTE_COUNT	742454
+SHUFFLE	COPY_MAP_DATA	2063210000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5101124
+SHUFFLE	COMPRESS_BYTE_COUNT	747800
+SHUFFLE	COPY_MAP_DATA	69031000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5093984
+SHUFFLE	COMPRESS_BYTE_COUNT	747285
+SHUFFLE	COPY_MAP_DATA	11507849000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5094698
+SHUFFLE	COMPRESS_BYTE_COUNT	747593
+SHUFFLE	COPY_MAP_DATA	281674000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1166066
+SHUFFLE	COMPRESS_BYTE_COUNT	169311
+SHUFFLE	COPY_MAP_DATA	1098388000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5070422
+SHUFFLE	COMPRESS_BYTE_COUNT	743916
+SHUFFLE	COPY_MAP_DATA	1053948000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5031458
+SHUFFLE	COMPRESS_BYTE_COUNT	738209
+SHUFFLE	COPY_MAP_DATA	16205579000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5065424
+SHUFFLE	COMPRESS_BYTE_COUNT	743424
+SHUFFLE	COPY_MAP_DATA	152436000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5059100
+SHUFFLE	COMPRESS_BYTE_COUNT	741775
+SHUFFLE	COPY_MAP_DATA	43066000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1187282
+SHUFFLE	COMPRESS_BYTE_COUNT	172409
+SHUFFLE	COPY_MAP_DATA	159726000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5103062
+SHUFFLE	COMPRESS_BYTE_COUNT	748159
+SHUFFLE	COPY_MAP_DATA	50146000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5074502
+SHUFFLE	COMPRESS_BYTE_COUNT	744841
+SHUFFLE	COPY_MAP_DATA	696040000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5047472
+SHUFFLE	COMPRESS_BYTE_COUNT	740244
+SHUFFLE	COPY_MAP_DATA	49695000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5036762
+SHUFFLE	COMPRESS_BYTE_COUNT	739101
+SHUFFLE	COPY_MAP_DATA	89377000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1199522
+SHUFFLE	COMPRESS_BYTE_COUNT	174089
+SHUFFLE	COPY_MAP_DATA	12493000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5055530
+SHUFFLE	COMPRESS_BYTE_COUNT	741630
+SHUFFLE	COPY_MAP_DATA	51149000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5070218
+SHUFFLE	COMPRESS_BYTE_COUNT	743654
+SHUFFLE	COPY_MAP_DATA	55296000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5089700
+SHUFFLE	COMPRESS_BYTE_COUNT	746536
+SHUFFLE	COPY_MAP_DATA	1529255000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5100206
+SHUFFLE	COMPRESS_BYTE_COUNT	748397
+SHUFFLE	COPY_MAP_DATA	2530447000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5024318
+SHUFFLE	COMPRESS_BYTE_COUNT	736796
+SHUFFLE	COPY_MAP_DATA	433593000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5104184
+SHUFFLE	COMPRESS_BYTE_COUNT	748641
+SHUFFLE	COPY_MAP_DATA	48101000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5081030
+SHUFFLE	COMPRESS_BYTE_COUNT	745013
+SHUFFLE	COPY_MAP_DATA	5498583000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1208294
+SHUFFLE	COMPRESS_BYTE_COUNT	175297
+SHUFFLE	COPY_MAP_DATA	13296000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5056958
+SHUFFLE	COMPRESS_BYTE_COUNT	742148
+SHUFFLE	COPY_MAP_DATA	55261000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5096942
+SHUFFLE	COMPRESS_BYTE_COUNT	747473
+SHUFFLE	COPY_MAP_DATA	10082519000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1196156
+SHUFFLE	COMPRESS_BYTE_COUNT	173657
+SHUFFLE	COPY_MAP_DATA	4209679000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1196156
+SHUFFLE	COMPRESS_BYTE_COUNT	173465
+SHUFFLE	COPY_MAP_DATA	13145000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5060936
+SHUFFLE	COMPRESS_BYTE_COUNT	742631
+SHUFFLE	COPY_MAP_DATA	54152000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5059916
+SHUFFLE	COMPRESS_BYTE_COUNT	742386
+SHUFFLE	COPY_MAP_DATA	52956000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5109488
+SHUFFLE	COMPRESS_BYTE_COUNT	749578
+SHUFFLE	COPY_MAP_DATA	128393000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5078786
+SHUFFLE	COMPRESS_BYTE_COUNT	744538
+SHUFFLE	COPY_MAP_DATA	2476046000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5092556
+SHUFFLE	COMPRESS_BYTE_COUNT	747339
+SHUFFLE	COPY_MAP_DATA	195814000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1212272
+SHUFFLE	COMPRESS_BYTE_COUNT	175876
+SHUFFLE	COPY_MAP_DATA	12987000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5090822
+SHUFFLE	COMPRESS_BYTE_COUNT	747120
+SHUFFLE	COPY_MAP_DATA	45364000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5045126
+SHUFFLE	COMPRESS_BYTE_COUNT	739936
+SHUFFLE	COPY_MAP_DATA	44706000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5083274
+SHUFFLE	COMPRESS_BYTE_COUNT	745595
+SHUFFLE	COPY_MAP_DATA	6135011000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1186568
+SHUFFLE	COMPRESS_BYTE_COUNT	172276
+SHUFFLE	COPY_MAP_DATA	12569000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5058692
+SHUFFLE	COMPRESS_BYTE_COUNT	742333
+SHUFFLE	COPY_MAP_DATA	172981000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5062772
+SHUFFLE	COMPRESS_BYTE_COUNT	742957
+SHUFFLE	COPY_MAP_DATA	45892000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5073074
+SHUFFLE	COMPRESS_BYTE_COUNT	743863
+SHUFFLE	COPY_MAP_DATA	47095000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1189934
+SHUFFLE	COMPRESS_BYTE_COUNT	172764
+SHUFFLE	COPY_MAP_DATA	12587000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1179836
+SHUFFLE	COMPRESS_BYTE_COUNT	171193
+SHUFFLE	COPY_MAP_DATA	543586000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5098778
+SHUFFLE	COMPRESS_BYTE_COUNT	748080
+SHUFFLE	COPY_MAP_DATA	376695000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1203500
+SHUFFLE	COMPRESS_BYTE_COUNT	174715
+SHUFFLE	COPY_MAP_DATA	11811594000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5038802
+SHUFFLE	COMPRESS_BYTE_COUNT	738683
+SHUFFLE	COPY_MAP_DATA	42837000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1218902
+SHUFFLE	COMPRESS_BYTE_COUNT	176862
+SHUFFLE	COPY_MAP_DATA	17610000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5058182
+SHUFFLE	COMPRESS_BYTE_COUNT	741830
+SHUFFLE	COPY_MAP_DATA	356934000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5120300
+SHUFFLE	COMPRESS_BYTE_COUNT	751000
+SHUFFLE	COPY_MAP_DATA	76448000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1192994
+SHUFFLE	COMPRESS_BYTE_COUNT	173165
+SHUFFLE	COPY_MAP_DATA	13999000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1182692
+SHUFFLE	COMPRESS_BYTE_COUNT	171588
+SHUFFLE	COPY_MAP_DATA	91602000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1180448
+SHUFFLE	COMPRESS_BYTE_COUNT	171290
+SHUFFLE	COPY_MAP_DATA	140131000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5121626
+SHUFFLE	COMPRESS_BYTE_COUNT	751586
+SHUFFLE	COPY_MAP_DATA	54170000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1196360
+SHUFFLE	COMPRESS_BYTE_COUNT	173660
+SHUFFLE	COPY_MAP_DATA	11785000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1196870
+SHUFFLE	COMPRESS_BYTE_COUNT	173668
+SHUFFLE	COPY_MAP_DATA	11182000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1187690
+SHUFFLE	COMPRESS_BYTE_COUNT	172358
+SHUFFLE	COPY_MAP_DATA	295960000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5082968
+SHUFFLE	COMPRESS_BYTE_COUNT	745477
+SHUFFLE	COPY_MAP_DATA	57145000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5096228
+SHUFFLE	COMPRESS_BYTE_COUNT	747150
+SHUFFLE	COPY_MAP_DATA	11290654000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1218086
+SHUFFLE	COMPRESS_BYTE_COUNT	176817
+SHUFFLE	COPY_MAP_DATA	55719000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1218188
+SHUFFLE	COMPRESS_BYTE_COUNT	176902
+SHUFFLE	COPY_MAP_DATA	13121000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5047574
+SHUFFLE	COMPRESS_BYTE_COUNT	740371
+SHUFFLE	COPY_MAP_DATA	49805000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1194320
+SHUFFLE	COMPRESS_BYTE_COUNT	173413
+SHUFFLE	COPY_MAP_DATA	32858000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1184018
+SHUFFLE	COMPRESS_BYTE_COUNT	171850
+SHUFFLE	COPY_MAP_DATA	12768000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5107550
+SHUFFLE	COMPRESS_BYTE_COUNT	749209
+SHUFFLE	COPY_MAP_DATA	87817000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1186160
+SHUFFLE	COMPRESS_BYTE_COUNT	172139
+SHUFFLE	COPY_MAP_DATA	12571000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1194728
+SHUFFLE	COMPRESS_BYTE_COUNT	173331
+SHUFFLE	COPY_MAP_DATA	44096000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5064098
+SHUFFLE	COMPRESS_BYTE_COUNT	743008
+SHUFFLE	COPY_MAP_DATA	56277000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5055938
+SHUFFLE	COMPRESS_BYTE_COUNT	742026
+SHUFFLE	COPY_MAP_DATA	132944000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1193096
+SHUFFLE	COMPRESS_BYTE_COUNT	173079
+SHUFFLE	COPY_MAP_DATA	102721000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1199930
+SHUFFLE	COMPRESS_BYTE_COUNT	174210
+SHUFFLE	COPY_MAP_DATA	11993000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5126726
+SHUFFLE	COMPRESS_BYTE_COUNT	751755
+SHUFFLE	COPY_MAP_DATA	53934000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1200746
+SHUFFLE	COMPRESS_BYTE_COUNT	174338
+SHUFFLE	COPY_MAP_DATA	90049000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5122238
+SHUFFLE	COMPRESS_BYTE_COUNT	751023
+SHUFFLE	COPY_MAP_DATA	1995354000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1188404
+SHUFFLE	COMPRESS_BYTE_COUNT	172505
+SHUFFLE	COPY_MAP_DATA	13539000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1194014
+SHUFFLE	COMPRESS_BYTE_COUNT	173323
+SHUFFLE	COPY_MAP_DATA	13788000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1191872
+SHUFFLE	COMPRESS_BYTE_COUNT	173001
+SHUFFLE	COPY_MAP_DATA	348356000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1175144
+SHUFFLE	COMPRESS_BYTE_COUNT	170605
+SHUFFLE	COPY_MAP_DATA	13261000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1192994
+SHUFFLE	COMPRESS_BYTE_COUNT	173392
+SHUFFLE	COPY_MAP_DATA	13608000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1205234
+SHUFFLE	COMPRESS_BYTE_COUNT	175028
+SHUFFLE	COPY_MAP_DATA	13510000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1193198
+SHUFFLE	COMPRESS_BYTE_COUNT	173032
+SHUFFLE	COPY_MAP_DATA	42656000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1201358
+SHUFFLE	COMPRESS_BYTE_COUNT	174427
+SHUFFLE	COPY_MAP_DATA	13718000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5119076
+SHUFFLE	COMPRESS_BYTE_COUNT	750753
+SHUFFLE	COPY_MAP_DATA	48863000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5088680
+SHUFFLE	COMPRESS_BYTE_COUNT	746450
+SHUFFLE	COPY_MAP_DATA	570060000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1187078
+SHUFFLE	COMPRESS_BYTE_COUNT	172242
+SHUFFLE	COPY_MAP_DATA	280922000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1191260
+SHUFFLE	COMPRESS_BYTE_COUNT	172877
+SHUFFLE	COPY_MAP_DATA	16296000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5103878
+SHUFFLE	COMPRESS_BYTE_COUNT	748858
+SHUFFLE	COPY_MAP_DATA	463117000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1193606
+SHUFFLE	COMPRESS_BYTE_COUNT	173233
+SHUFFLE	COPY_MAP_DATA	12976000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1200440
+SHUFFLE	COMPRESS_BYTE_COUNT	174194
+SHUFFLE	COPY_MAP_DATA	4400298000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1185344
+SHUFFLE	COMPRESS_BYTE_COUNT	172145
+SHUFFLE	COPY_MAP_DATA	35133000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1193402
+SHUFFLE	COMPRESS_BYTE_COUNT	173212
+SHUFFLE	COPY_MAP_DATA	13064000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1207172
+SHUFFLE	COMPRESS_BYTE_COUNT	175160
+SHUFFLE	COPY_MAP_DATA	13790000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1190648
+SHUFFLE	COMPRESS_BYTE_COUNT	172895
+SHUFFLE	COPY_MAP_DATA	22635000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1193300
+SHUFFLE	COMPRESS_BYTE_COUNT	173261
+SHUFFLE	COPY_MAP_DATA	12595000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1192790
+SHUFFLE	COMPRESS_BYTE_COUNT	173156
+SHUFFLE	COPY_MAP_DATA	533787000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5107754
+SHUFFLE	COMPRESS_BYTE_COUNT	749225
+SHUFFLE	COPY_MAP_DATA	628347000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1211660
+SHUFFLE	COMPRESS_BYTE_COUNT	175938
+SHUFFLE	COPY_MAP_DATA	491222000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1199624
+SHUFFLE	COMPRESS_BYTE_COUNT	174229
+SHUFFLE	COPY_MAP_DATA	148180000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1204316
+SHUFFLE	COMPRESS_BYTE_COUNT	174676
+SHUFFLE	COPY_MAP_DATA	13165000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5123054
+SHUFFLE	COMPRESS_BYTE_COUNT	751753
+SHUFFLE	COPY_MAP_DATA	45274000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1197380
+SHUFFLE	COMPRESS_BYTE_COUNT	173899
+SHUFFLE	COPY_MAP_DATA	83542000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1198808
+SHUFFLE	COMPRESS_BYTE_COUNT	174015
+SHUFFLE	COPY_MAP_DATA	12887000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1184222
+SHUFFLE	COMPRESS_BYTE_COUNT	171993
+SHUFFLE	COPY_MAP_DATA	12396000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5108468
+SHUFFLE	COMPRESS_BYTE_COUNT	749104
+SHUFFLE	COPY_MAP_DATA	297130000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5044718
+SHUFFLE	COMPRESS_BYTE_COUNT	739903
+SHUFFLE	COPY_MAP_DATA	463035000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5094290
+SHUFFLE	COMPRESS_BYTE_COUNT	747604
+SHUFFLE	COPY_MAP_DATA	229104000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1178918
+SHUFFLE	COMPRESS_BYTE_COUNT	171057
+SHUFFLE	COPY_MAP_DATA	12671000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1178306
+SHUFFLE	COMPRESS_BYTE_COUNT	171045
+SHUFFLE	COPY_MAP_DATA	36587000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1183916
+SHUFFLE	COMPRESS_BYTE_COUNT	171821
+SHUFFLE	COPY_MAP_DATA	13130000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1190954
+SHUFFLE	COMPRESS_BYTE_COUNT	172831
+SHUFFLE	COPY_MAP_DATA	31955000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1196462
+SHUFFLE	COMPRESS_BYTE_COUNT	173581
+SHUFFLE	COPY_MAP_DATA	160160000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1199012
+SHUFFLE	COMPRESS_BYTE_COUNT	173980
+SHUFFLE	COPY_MAP_DATA	14175000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1212986
+SHUFFLE	COMPRESS_BYTE_COUNT	175985
+SHUFFLE	COPY_MAP_DATA	12823000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1190444
+SHUFFLE	COMPRESS_BYTE_COUNT	172782
+SHUFFLE	COPY_MAP_DATA	13825000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1197074
+SHUFFLE	COMPRESS_BYTE_COUNT	173748
+SHUFFLE	COPY_MAP_DATA	12732000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5097962
+SHUFFLE	COMPRESS_BYTE_COUNT	747723
+SHUFFLE	COPY_MAP_DATA	793773000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1170248
+SHUFFLE	COMPRESS_BYTE_COUNT	169902
+SHUFFLE	COPY_MAP_DATA	13747000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1187690
+SHUFFLE	COMPRESS_BYTE_COUNT	172455
+SHUFFLE	COPY_MAP_DATA	12429000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1178612
+SHUFFLE	COMPRESS_BYTE_COUNT	171263
+SHUFFLE	COPY_MAP_DATA	12761000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1182896
+SHUFFLE	COMPRESS_BYTE_COUNT	171516
+SHUFFLE	COPY_MAP_DATA	13475000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1190648
+SHUFFLE	COMPRESS_BYTE_COUNT	172828
+SHUFFLE	COPY_MAP_DATA	12642000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1180142
+SHUFFLE	COMPRESS_BYTE_COUNT	171421
+SHUFFLE	COPY_MAP_DATA	10565000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1182182
+SHUFFLE	COMPRESS_BYTE_COUNT	171610
+SHUFFLE	COPY_MAP_DATA	12408000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1181468
+SHUFFLE	COMPRESS_BYTE_COUNT	171580
+SHUFFLE	COPY_MAP_DATA	52178000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1190138
+SHUFFLE	COMPRESS_BYTE_COUNT	172699
+SHUFFLE	COPY_MAP_DATA	130678000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1185242
+SHUFFLE	COMPRESS_BYTE_COUNT	172030
+SHUFFLE	COPY_MAP_DATA	12505000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1188404
+SHUFFLE	COMPRESS_BYTE_COUNT	172477
+SHUFFLE	COPY_MAP_DATA	13053000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1210232
+SHUFFLE	COMPRESS_BYTE_COUNT	175759
+SHUFFLE	COPY_MAP_DATA	12177000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1186364
+SHUFFLE	COMPRESS_BYTE_COUNT	172159
+SHUFFLE	COPY_MAP_DATA	11990000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1201052
+SHUFFLE	COMPRESS_BYTE_COUNT	174369
+SHUFFLE	COPY_MAP_DATA	11526000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1181876
+SHUFFLE	COMPRESS_BYTE_COUNT	171569
+SHUFFLE	COPY_MAP_DATA	11794000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1211150
+SHUFFLE	COMPRESS_BYTE_COUNT	175821
+SHUFFLE	COPY_MAP_DATA	12756000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1199624
+SHUFFLE	COMPRESS_BYTE_COUNT	174224
+SHUFFLE	COPY_MAP_DATA	12011000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1202582
+SHUFFLE	COMPRESS_BYTE_COUNT	174522
+SHUFFLE	COPY_MAP_DATA	124708000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1205540
+SHUFFLE	COMPRESS_BYTE_COUNT	174945
+SHUFFLE	COPY_MAP_DATA	26610000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1192790
+SHUFFLE	COMPRESS_BYTE_COUNT	173192
+SHUFFLE	COPY_MAP_DATA	10845000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1191056
+SHUFFLE	COMPRESS_BYTE_COUNT	172771
+SHUFFLE	COPY_MAP_DATA	11508000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1191770
+SHUFFLE	COMPRESS_BYTE_COUNT	172953
+SHUFFLE	COPY_MAP_DATA	12995000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1198400
+SHUFFLE	COMPRESS_BYTE_COUNT	173947
+SHUFFLE	COPY_MAP_DATA	27248000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1186160
+SHUFFLE	COMPRESS_BYTE_COUNT	172251
+SHUFFLE	COPY_MAP_DATA	12086000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1185752
+SHUFFLE	COMPRESS_BYTE_COUNT	172154
+SHUFFLE	COPY_MAP_DATA	13519000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1197176
+SHUFFLE	COMPRESS_BYTE_COUNT	173797
+SHUFFLE	COPY_MAP_DATA	420705000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1197992
+SHUFFLE	COMPRESS_BYTE_COUNT	173948
+SHUFFLE	COPY_MAP_DATA	251519000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1199216
+SHUFFLE	COMPRESS_BYTE_COUNT	174094
+SHUFFLE	COPY_MAP_DATA	12145000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1202276
+SHUFFLE	COMPRESS_BYTE_COUNT	174409
+SHUFFLE	COPY_MAP_DATA	11935000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1188812
+SHUFFLE	COMPRESS_BYTE_COUNT	172413
+SHUFFLE	COPY_MAP_DATA	22100000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1172696
+SHUFFLE	COMPRESS_BYTE_COUNT	170144
+SHUFFLE	COPY_MAP_DATA	11263000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1179224
+SHUFFLE	COMPRESS_BYTE_COUNT	171282
+SHUFFLE	COPY_MAP_DATA	20903000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1198094
+SHUFFLE	COMPRESS_BYTE_COUNT	173939
+SHUFFLE	COPY_MAP_DATA	15081000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1192586
+SHUFFLE	COMPRESS_BYTE_COUNT	173074
+SHUFFLE	COPY_MAP_DATA	11568000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1188710
+SHUFFLE	COMPRESS_BYTE_COUNT	172548
+SHUFFLE	COPY_MAP_DATA	11477000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1186874
+SHUFFLE	COMPRESS_BYTE_COUNT	172293
+SHUFFLE	COPY_MAP_DATA	11244000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1207988
+SHUFFLE	COMPRESS_BYTE_COUNT	175231
+SHUFFLE	COPY_MAP_DATA	11920000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1197074
+SHUFFLE	COMPRESS_BYTE_COUNT	173796
+SHUFFLE	COPY_MAP_DATA	45446000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	278371016000
+MERGE	READ_WRITE	262131776000
+MERGE	READ_WRITE_COUNT	7
+MERGE	COMBINE	0
+MERGE	WRITE	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	16809314000
+SORT	READ_WRITE	16626139000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	176260496
+REDUCE	SETUP	347000
+REDUCE	SETUP_MEM	176260496
+REDUCE	CLEANUP	43000
+REDUCE	CLEANUP_MEM	186392072
+REDUCE	TOTAL_RUN	160825350000
+REDUCE	READ	20798240000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	84212403000
+REDUCE	WRITE	33967804000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	111304250
+REDUCE	VALUE_BYTE_COUNT	979477400
+REDUCE	REDUCE_MEM	186392072
+REDUCE	WRITE	3288000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	716536719000
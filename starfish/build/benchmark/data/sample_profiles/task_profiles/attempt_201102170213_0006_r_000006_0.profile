@@ -0,0 +1,1229 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5123768
+SHUFFLE	COMPRESS_BYTE_COUNT	751608
+SHUFFLE	COPY_MAP_DATA	3346498000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5098268
+SHUFFLE	COMPRESS_BYTE_COUNT	747700
+SHUFFLE	COPY_MAP_DATA	1948078000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5059202
+SHUFFLE	COMPRESS_BYTE_COUNT	742444
+SHUFFLE	COPY_MAP_DATA	129149000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5109284
+SHUFFLE	COMPRESS_BYTE_COUNT	748532
+SHUFFLE	COPY_MAP_DATA	66395000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5137946
+SHUFFLE	COMPRESS_BYTE_COUNT	753295
+SHUFFLE	COPY_MAP_DATA	439700000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5098880
+SHUFFLE	COMPRESS_BYTE_COUNT	747743
+SHUFFLE	COPY_MAP_DATA	57063000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5115098
+SHUFFLE	COMPRESS_BYTE_COUNT	749981
+SHUFFLE	COPY_MAP_DATA	145511000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5081132
+SHUFFLE	COMPRESS_BYTE_COUNT	744745
+SHUFFLE	COPY_MAP_DATA	381025000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5092352
+SHUFFLE	COMPRESS_BYTE_COUNT	747137
+SHUFFLE	COPY_MAP_DATA	93658000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5182520
+SHUFFLE	COMPRESS_BYTE_COUNT	759663
+SHUFFLE	COPY_MAP_DATA	138949000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5138456
+SHUFFLE	COMPRESS_BYTE_COUNT	753225
+SHUFFLE	COPY_MAP_DATA	691557000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5110508
+SHUFFLE	COMPRESS_BYTE_COUNT	749717
+SHUFFLE	COPY_MAP_DATA	254316000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5092352
+SHUFFLE	COMPRESS_BYTE_COUNT	746677
+SHUFFLE	COPY_MAP_DATA	49384000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5130092
+SHUFFLE	COMPRESS_BYTE_COUNT	752690
+SHUFFLE	COPY_MAP_DATA	77277000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5075318
+SHUFFLE	COMPRESS_BYTE_COUNT	744198
+SHUFFLE	COPY_MAP_DATA	47103000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5136110
+SHUFFLE	COMPRESS_BYTE_COUNT	752819
+SHUFFLE	COPY_MAP_DATA	48028000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5112752
+SHUFFLE	COMPRESS_BYTE_COUNT	749656
+SHUFFLE	COPY_MAP_DATA	120294000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5062160
+SHUFFLE	COMPRESS_BYTE_COUNT	742502
+SHUFFLE	COPY_MAP_DATA	212871000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5150492
+SHUFFLE	COMPRESS_BYTE_COUNT	755355
+SHUFFLE	COPY_MAP_DATA	234549000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5139170
+SHUFFLE	COMPRESS_BYTE_COUNT	753389
+SHUFFLE	COPY_MAP_DATA	55666000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5123870
+SHUFFLE	COMPRESS_BYTE_COUNT	751944
+SHUFFLE	COPY_MAP_DATA	122896000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5115404
+SHUFFLE	COMPRESS_BYTE_COUNT	750425
+SHUFFLE	COPY_MAP_DATA	43005000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5135498
+SHUFFLE	COMPRESS_BYTE_COUNT	753005
+SHUFFLE	COPY_MAP_DATA	126293000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5121116
+SHUFFLE	COMPRESS_BYTE_COUNT	750658
+SHUFFLE	COPY_MAP_DATA	50066000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5120810
+SHUFFLE	COMPRESS_BYTE_COUNT	751114
+SHUFFLE	COPY_MAP_DATA	56427000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5098064
+SHUFFLE	COMPRESS_BYTE_COUNT	747771
+SHUFFLE	COPY_MAP_DATA	48440000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5095208
+SHUFFLE	COMPRESS_BYTE_COUNT	747234
+SHUFFLE	COPY_MAP_DATA	1508331000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5131316
+SHUFFLE	COMPRESS_BYTE_COUNT	752234
+SHUFFLE	COPY_MAP_DATA	46607000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5068178
+SHUFFLE	COMPRESS_BYTE_COUNT	743634
+SHUFFLE	COPY_MAP_DATA	314898000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5109590
+SHUFFLE	COMPRESS_BYTE_COUNT	749177
+SHUFFLE	COPY_MAP_DATA	1027597000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5100308
+SHUFFLE	COMPRESS_BYTE_COUNT	748139
+SHUFFLE	COPY_MAP_DATA	115544000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5110202
+SHUFFLE	COMPRESS_BYTE_COUNT	749422
+SHUFFLE	COPY_MAP_DATA	97818000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5095820
+SHUFFLE	COMPRESS_BYTE_COUNT	747185
+SHUFFLE	COPY_MAP_DATA	53977000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5103572
+SHUFFLE	COMPRESS_BYTE_COUNT	748532
+SHUFFLE	COPY_MAP_DATA	1466952000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5101940
+SHUFFLE	COMPRESS_BYTE_COUNT	748350
+SHUFFLE	COPY_MAP_DATA	66140000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5097758
+SHUFFLE	COMPRESS_BYTE_COUNT	747378
+SHUFFLE	COPY_MAP_DATA	154821000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5100308
+SHUFFLE	COMPRESS_BYTE_COUNT	747868
+SHUFFLE	COPY_MAP_DATA	321097000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5118770
+SHUFFLE	COMPRESS_BYTE_COUNT	750076
+SHUFFLE	COPY_MAP_DATA	116655000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5104490
+SHUFFLE	COMPRESS_BYTE_COUNT	748716
+SHUFFLE	COPY_MAP_DATA	212123000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5131112
+SHUFFLE	COMPRESS_BYTE_COUNT	752625
+SHUFFLE	COPY_MAP_DATA	290843000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5112956
+SHUFFLE	COMPRESS_BYTE_COUNT	749937
+SHUFFLE	COPY_MAP_DATA	101092000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5084090
+SHUFFLE	COMPRESS_BYTE_COUNT	745652
+SHUFFLE	COPY_MAP_DATA	285659000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5112548
+SHUFFLE	COMPRESS_BYTE_COUNT	749438
+SHUFFLE	COPY_MAP_DATA	78433000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5093168
+SHUFFLE	COMPRESS_BYTE_COUNT	747174
+SHUFFLE	COPY_MAP_DATA	45817000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5105816
+SHUFFLE	COMPRESS_BYTE_COUNT	748879
+SHUFFLE	COPY_MAP_DATA	45010000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5104082
+SHUFFLE	COMPRESS_BYTE_COUNT	748623
+SHUFFLE	COPY_MAP_DATA	44954000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5110610
+SHUFFLE	COMPRESS_BYTE_COUNT	749377
+SHUFFLE	COPY_MAP_DATA	45415000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5107754
+SHUFFLE	COMPRESS_BYTE_COUNT	749117
+SHUFFLE	COPY_MAP_DATA	79530000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5096432
+SHUFFLE	COMPRESS_BYTE_COUNT	747251
+SHUFFLE	COPY_MAP_DATA	46037000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5117036
+SHUFFLE	COMPRESS_BYTE_COUNT	750453
+SHUFFLE	COPY_MAP_DATA	50630000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5120606
+SHUFFLE	COMPRESS_BYTE_COUNT	750838
+SHUFFLE	COPY_MAP_DATA	42590000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5121524
+SHUFFLE	COMPRESS_BYTE_COUNT	750952
+SHUFFLE	COPY_MAP_DATA	51052000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5097962
+SHUFFLE	COMPRESS_BYTE_COUNT	747118
+SHUFFLE	COPY_MAP_DATA	374539000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5131520
+SHUFFLE	COMPRESS_BYTE_COUNT	752796
+SHUFFLE	COPY_MAP_DATA	84859000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5146922
+SHUFFLE	COMPRESS_BYTE_COUNT	754645
+SHUFFLE	COPY_MAP_DATA	68295000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5111222
+SHUFFLE	COMPRESS_BYTE_COUNT	749758
+SHUFFLE	COPY_MAP_DATA	56917000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5115812
+SHUFFLE	COMPRESS_BYTE_COUNT	750214
+SHUFFLE	COPY_MAP_DATA	112103000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5096024
+SHUFFLE	COMPRESS_BYTE_COUNT	747049
+SHUFFLE	COPY_MAP_DATA	78752000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5110406
+SHUFFLE	COMPRESS_BYTE_COUNT	745116
+SHUFFLE	COPY_MAP_DATA	50053000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5077766
+SHUFFLE	COMPRESS_BYTE_COUNT	744834
+SHUFFLE	COPY_MAP_DATA	357443000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5118974
+SHUFFLE	COMPRESS_BYTE_COUNT	751028
+SHUFFLE	COPY_MAP_DATA	43369000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5153960
+SHUFFLE	COMPRESS_BYTE_COUNT	755887
+SHUFFLE	COPY_MAP_DATA	239754000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5095412
+SHUFFLE	COMPRESS_BYTE_COUNT	747264
+SHUFFLE	COPY_MAP_DATA	153752000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5091434
+SHUFFLE	COMPRESS_BYTE_COUNT	746027
+SHUFFLE	COPY_MAP_DATA	62212000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5120810
+SHUFFLE	COMPRESS_BYTE_COUNT	750862
+SHUFFLE	COPY_MAP_DATA	315591000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5081642
+SHUFFLE	COMPRESS_BYTE_COUNT	745428
+SHUFFLE	COPY_MAP_DATA	153345000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5091434
+SHUFFLE	COMPRESS_BYTE_COUNT	746664
+SHUFFLE	COPY_MAP_DATA	45608000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5122442
+SHUFFLE	COMPRESS_BYTE_COUNT	751246
+SHUFFLE	COPY_MAP_DATA	87819000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5085212
+SHUFFLE	COMPRESS_BYTE_COUNT	745638
+SHUFFLE	COPY_MAP_DATA	92842000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5131724
+SHUFFLE	COMPRESS_BYTE_COUNT	752827
+SHUFFLE	COPY_MAP_DATA	42135000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5122442
+SHUFFLE	COMPRESS_BYTE_COUNT	751447
+SHUFFLE	COPY_MAP_DATA	104630000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5134988
+SHUFFLE	COMPRESS_BYTE_COUNT	752888
+SHUFFLE	COPY_MAP_DATA	51468000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5112140
+SHUFFLE	COMPRESS_BYTE_COUNT	749940
+SHUFFLE	COPY_MAP_DATA	111148000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5107754
+SHUFFLE	COMPRESS_BYTE_COUNT	749339
+SHUFFLE	COPY_MAP_DATA	4042222000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5113262
+SHUFFLE	COMPRESS_BYTE_COUNT	749590
+SHUFFLE	COPY_MAP_DATA	93639000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5085416
+SHUFFLE	COMPRESS_BYTE_COUNT	746245
+SHUFFLE	COPY_MAP_DATA	3378494000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5084294
+SHUFFLE	COMPRESS_BYTE_COUNT	745367
+SHUFFLE	COPY_MAP_DATA	97500000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5074604
+SHUFFLE	COMPRESS_BYTE_COUNT	744321
+SHUFFLE	COPY_MAP_DATA	47390000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5105612
+SHUFFLE	COMPRESS_BYTE_COUNT	748474
+SHUFFLE	COPY_MAP_DATA	6655444000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5146004
+SHUFFLE	COMPRESS_BYTE_COUNT	754669
+SHUFFLE	COPY_MAP_DATA	892312000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5049818
+SHUFFLE	COMPRESS_BYTE_COUNT	740964
+SHUFFLE	COPY_MAP_DATA	92779000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5110814
+SHUFFLE	COMPRESS_BYTE_COUNT	749752
+SHUFFLE	COPY_MAP_DATA	47014000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5110202
+SHUFFLE	COMPRESS_BYTE_COUNT	749071
+SHUFFLE	COPY_MAP_DATA	562755000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5096534
+SHUFFLE	COMPRESS_BYTE_COUNT	747553
+SHUFFLE	COPY_MAP_DATA	8376080000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5116934
+SHUFFLE	COMPRESS_BYTE_COUNT	750967
+SHUFFLE	COPY_MAP_DATA	8350294000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5075114
+SHUFFLE	COMPRESS_BYTE_COUNT	744138
+SHUFFLE	COPY_MAP_DATA	218088000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5115200
+SHUFFLE	COMPRESS_BYTE_COUNT	750052
+SHUFFLE	COPY_MAP_DATA	45628000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5124992
+SHUFFLE	COMPRESS_BYTE_COUNT	751631
+SHUFFLE	COPY_MAP_DATA	54477000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5111834
+SHUFFLE	COMPRESS_BYTE_COUNT	749392
+SHUFFLE	COPY_MAP_DATA	46429000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5155592
+SHUFFLE	COMPRESS_BYTE_COUNT	756022
+SHUFFLE	COPY_MAP_DATA	375349000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5091842
+SHUFFLE	COMPRESS_BYTE_COUNT	747085
+SHUFFLE	COPY_MAP_DATA	656455000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5125910
+SHUFFLE	COMPRESS_BYTE_COUNT	751432
+SHUFFLE	COPY_MAP_DATA	56311000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5104796
+SHUFFLE	COMPRESS_BYTE_COUNT	748323
+SHUFFLE	COPY_MAP_DATA	44785000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5145800
+SHUFFLE	COMPRESS_BYTE_COUNT	754629
+SHUFFLE	COPY_MAP_DATA	72335000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5076236
+SHUFFLE	COMPRESS_BYTE_COUNT	744784
+SHUFFLE	COPY_MAP_DATA	191096000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5107142
+SHUFFLE	COMPRESS_BYTE_COUNT	749260
+SHUFFLE	COPY_MAP_DATA	111278000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5152022
+SHUFFLE	COMPRESS_BYTE_COUNT	755600
+SHUFFLE	COPY_MAP_DATA	63733000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5102552
+SHUFFLE	COMPRESS_BYTE_COUNT	748154
+SHUFFLE	COPY_MAP_DATA	257026000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5137436
+SHUFFLE	COMPRESS_BYTE_COUNT	752689
+SHUFFLE	COPY_MAP_DATA	63141000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5107856
+SHUFFLE	COMPRESS_BYTE_COUNT	748695
+SHUFFLE	COPY_MAP_DATA	45297000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5122034
+SHUFFLE	COMPRESS_BYTE_COUNT	751249
+SHUFFLE	COPY_MAP_DATA	1274902000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5093066
+SHUFFLE	COMPRESS_BYTE_COUNT	746790
+SHUFFLE	COPY_MAP_DATA	64836000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5086538
+SHUFFLE	COMPRESS_BYTE_COUNT	746043
+SHUFFLE	COPY_MAP_DATA	138046000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5098880
+SHUFFLE	COMPRESS_BYTE_COUNT	747566
+SHUFFLE	COPY_MAP_DATA	102495000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5119688
+SHUFFLE	COMPRESS_BYTE_COUNT	750615
+SHUFFLE	COPY_MAP_DATA	49014000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5081642
+SHUFFLE	COMPRESS_BYTE_COUNT	745327
+SHUFFLE	COPY_MAP_DATA	54462000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5112854
+SHUFFLE	COMPRESS_BYTE_COUNT	750048
+SHUFFLE	COPY_MAP_DATA	46897000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5122034
+SHUFFLE	COMPRESS_BYTE_COUNT	751324
+SHUFFLE	COPY_MAP_DATA	86254000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5137640
+SHUFFLE	COMPRESS_BYTE_COUNT	753625
+SHUFFLE	COPY_MAP_DATA	906424000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5090822
+SHUFFLE	COMPRESS_BYTE_COUNT	746982
+SHUFFLE	COPY_MAP_DATA	1007485000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5091230
+SHUFFLE	COMPRESS_BYTE_COUNT	746416
+SHUFFLE	COPY_MAP_DATA	54564000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5111324
+SHUFFLE	COMPRESS_BYTE_COUNT	749534
+SHUFFLE	COPY_MAP_DATA	45981000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5107550
+SHUFFLE	COMPRESS_BYTE_COUNT	749428
+SHUFFLE	COPY_MAP_DATA	1740743000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5084702
+SHUFFLE	COMPRESS_BYTE_COUNT	745604
+SHUFFLE	COPY_MAP_DATA	44220000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5103674
+SHUFFLE	COMPRESS_BYTE_COUNT	748093
+SHUFFLE	COPY_MAP_DATA	58217000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5097452
+SHUFFLE	COMPRESS_BYTE_COUNT	748088
+SHUFFLE	COPY_MAP_DATA	66569000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5080826
+SHUFFLE	COMPRESS_BYTE_COUNT	745523
+SHUFFLE	COPY_MAP_DATA	526483000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5108162
+SHUFFLE	COMPRESS_BYTE_COUNT	749195
+SHUFFLE	COPY_MAP_DATA	260371000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5094392
+SHUFFLE	COMPRESS_BYTE_COUNT	747554
+SHUFFLE	COPY_MAP_DATA	498516000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5111528
+SHUFFLE	COMPRESS_BYTE_COUNT	749515
+SHUFFLE	COPY_MAP_DATA	218141000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5075522
+SHUFFLE	COMPRESS_BYTE_COUNT	744745
+SHUFFLE	COPY_MAP_DATA	879959000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5126828
+SHUFFLE	COMPRESS_BYTE_COUNT	751242
+SHUFFLE	COPY_MAP_DATA	2602672000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5078072
+SHUFFLE	COMPRESS_BYTE_COUNT	744503
+SHUFFLE	COPY_MAP_DATA	251382000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5116118
+SHUFFLE	COMPRESS_BYTE_COUNT	749983
+SHUFFLE	COPY_MAP_DATA	1288798000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5073482
+SHUFFLE	COMPRESS_BYTE_COUNT	744041
+SHUFFLE	COPY_MAP_DATA	103840000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5082866
+SHUFFLE	COMPRESS_BYTE_COUNT	745324
+SHUFFLE	COPY_MAP_DATA	44108000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5137130
+SHUFFLE	COMPRESS_BYTE_COUNT	753279
+SHUFFLE	COPY_MAP_DATA	2100724000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5124992
+SHUFFLE	COMPRESS_BYTE_COUNT	751554
+SHUFFLE	COPY_MAP_DATA	1317661000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5095514
+SHUFFLE	COMPRESS_BYTE_COUNT	747628
+SHUFFLE	COPY_MAP_DATA	45423000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5112038
+SHUFFLE	COMPRESS_BYTE_COUNT	749906
+SHUFFLE	COPY_MAP_DATA	360263000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5129990
+SHUFFLE	COMPRESS_BYTE_COUNT	752352
+SHUFFLE	COPY_MAP_DATA	146386000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5116832
+SHUFFLE	COMPRESS_BYTE_COUNT	750376
+SHUFFLE	COPY_MAP_DATA	54190000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5125400
+SHUFFLE	COMPRESS_BYTE_COUNT	751879
+SHUFFLE	COPY_MAP_DATA	45416000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5138864
+SHUFFLE	COMPRESS_BYTE_COUNT	753323
+SHUFFLE	COPY_MAP_DATA	48805000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5094800
+SHUFFLE	COMPRESS_BYTE_COUNT	747040
+SHUFFLE	COPY_MAP_DATA	425766000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5106428
+SHUFFLE	COMPRESS_BYTE_COUNT	741820
+SHUFFLE	COPY_MAP_DATA	43337000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5120300
+SHUFFLE	COMPRESS_BYTE_COUNT	750857
+SHUFFLE	COPY_MAP_DATA	331083000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5079296
+SHUFFLE	COMPRESS_BYTE_COUNT	744877
+SHUFFLE	COPY_MAP_DATA	44637000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5102246
+SHUFFLE	COMPRESS_BYTE_COUNT	748032
+SHUFFLE	COPY_MAP_DATA	44904000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5077052
+SHUFFLE	COMPRESS_BYTE_COUNT	744486
+SHUFFLE	COPY_MAP_DATA	120600000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5144780
+SHUFFLE	COMPRESS_BYTE_COUNT	754601
+SHUFFLE	COPY_MAP_DATA	162685000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5081438
+SHUFFLE	COMPRESS_BYTE_COUNT	745551
+SHUFFLE	COPY_MAP_DATA	74492000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5079398
+SHUFFLE	COMPRESS_BYTE_COUNT	745193
+SHUFFLE	COPY_MAP_DATA	379350000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5131010
+SHUFFLE	COMPRESS_BYTE_COUNT	752016
+SHUFFLE	COPY_MAP_DATA	1523048000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1201766
+SHUFFLE	COMPRESS_BYTE_COUNT	174314
+SHUFFLE	COPY_MAP_DATA	92588000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5118464
+SHUFFLE	COMPRESS_BYTE_COUNT	750286
+SHUFFLE	COPY_MAP_DATA	56411000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5107040
+SHUFFLE	COMPRESS_BYTE_COUNT	748442
+SHUFFLE	COPY_MAP_DATA	67799000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5105306
+SHUFFLE	COMPRESS_BYTE_COUNT	748498
+SHUFFLE	COPY_MAP_DATA	4615194000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1197686
+SHUFFLE	COMPRESS_BYTE_COUNT	173751
+SHUFFLE	COPY_MAP_DATA	939965000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5115914
+SHUFFLE	COMPRESS_BYTE_COUNT	750494
+SHUFFLE	COPY_MAP_DATA	5776348000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5138864
+SHUFFLE	COMPRESS_BYTE_COUNT	753872
+SHUFFLE	COPY_MAP_DATA	55269000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1208906
+SHUFFLE	COMPRESS_BYTE_COUNT	175445
+SHUFFLE	COPY_MAP_DATA	14006000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5068076
+SHUFFLE	COMPRESS_BYTE_COUNT	743661
+SHUFFLE	COPY_MAP_DATA	64852000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5135090
+SHUFFLE	COMPRESS_BYTE_COUNT	753172
+SHUFFLE	COPY_MAP_DATA	43551000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5097860
+SHUFFLE	COMPRESS_BYTE_COUNT	747700
+SHUFFLE	COPY_MAP_DATA	6034205000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5115098
+SHUFFLE	COMPRESS_BYTE_COUNT	750251
+SHUFFLE	COPY_MAP_DATA	43511000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5131928
+SHUFFLE	COMPRESS_BYTE_COUNT	752279
+SHUFFLE	COPY_MAP_DATA	46145000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5098574
+SHUFFLE	COMPRESS_BYTE_COUNT	747888
+SHUFFLE	COPY_MAP_DATA	677299000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5102144
+SHUFFLE	COMPRESS_BYTE_COUNT	748359
+SHUFFLE	COPY_MAP_DATA	45455000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1206560
+SHUFFLE	COMPRESS_BYTE_COUNT	175040
+SHUFFLE	COPY_MAP_DATA	12731000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5097758
+SHUFFLE	COMPRESS_BYTE_COUNT	747669
+SHUFFLE	COPY_MAP_DATA	86305000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5122646
+SHUFFLE	COMPRESS_BYTE_COUNT	750827
+SHUFFLE	COPY_MAP_DATA	45576000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1193198
+SHUFFLE	COMPRESS_BYTE_COUNT	173052
+SHUFFLE	COPY_MAP_DATA	13167000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5088068
+SHUFFLE	COMPRESS_BYTE_COUNT	746105
+SHUFFLE	COPY_MAP_DATA	105131000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5147126
+SHUFFLE	COMPRESS_BYTE_COUNT	754671
+SHUFFLE	COPY_MAP_DATA	127229000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5114894
+SHUFFLE	COMPRESS_BYTE_COUNT	750404
+SHUFFLE	COPY_MAP_DATA	414928000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5107040
+SHUFFLE	COMPRESS_BYTE_COUNT	749195
+SHUFFLE	COPY_MAP_DATA	142623000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5064404
+SHUFFLE	COMPRESS_BYTE_COUNT	742842
+SHUFFLE	COPY_MAP_DATA	3403881000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5090822
+SHUFFLE	COMPRESS_BYTE_COUNT	747013
+SHUFFLE	COPY_MAP_DATA	1011758000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5085824
+SHUFFLE	COMPRESS_BYTE_COUNT	746065
+SHUFFLE	COPY_MAP_DATA	2240052000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1205540
+SHUFFLE	COMPRESS_BYTE_COUNT	174984
+SHUFFLE	COPY_MAP_DATA	34566000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5123462
+SHUFFLE	COMPRESS_BYTE_COUNT	751191
+SHUFFLE	COPY_MAP_DATA	41166000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5092454
+SHUFFLE	COMPRESS_BYTE_COUNT	746910
+SHUFFLE	COPY_MAP_DATA	10166060000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1212068
+SHUFFLE	COMPRESS_BYTE_COUNT	175743
+SHUFFLE	COPY_MAP_DATA	4413887000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5139170
+SHUFFLE	COMPRESS_BYTE_COUNT	753324
+SHUFFLE	COPY_MAP_DATA	3940655000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1186874
+SHUFFLE	COMPRESS_BYTE_COUNT	172130
+SHUFFLE	COPY_MAP_DATA	13027000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5117852
+SHUFFLE	COMPRESS_BYTE_COUNT	750844
+SHUFFLE	COPY_MAP_DATA	45050000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5089292
+SHUFFLE	COMPRESS_BYTE_COUNT	746672
+SHUFFLE	COPY_MAP_DATA	78758000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5088680
+SHUFFLE	COMPRESS_BYTE_COUNT	746221
+SHUFFLE	COPY_MAP_DATA	258730000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1212578
+SHUFFLE	COMPRESS_BYTE_COUNT	175880
+SHUFFLE	COPY_MAP_DATA	12790000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5095310
+SHUFFLE	COMPRESS_BYTE_COUNT	747342
+SHUFFLE	COPY_MAP_DATA	45449000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5113772
+SHUFFLE	COMPRESS_BYTE_COUNT	750007
+SHUFFLE	COPY_MAP_DATA	907307000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5093270
+SHUFFLE	COMPRESS_BYTE_COUNT	747005
+SHUFFLE	COPY_MAP_DATA	4960159000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1203704
+SHUFFLE	COMPRESS_BYTE_COUNT	174625
+SHUFFLE	COPY_MAP_DATA	12647000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5098370
+SHUFFLE	COMPRESS_BYTE_COUNT	747607
+SHUFFLE	COPY_MAP_DATA	45491000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5132846
+SHUFFLE	COMPRESS_BYTE_COUNT	752612
+SHUFFLE	COPY_MAP_DATA	63022000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5152532
+SHUFFLE	COMPRESS_BYTE_COUNT	755385
+SHUFFLE	COPY_MAP_DATA	45074000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1195544
+SHUFFLE	COMPRESS_BYTE_COUNT	173488
+SHUFFLE	COPY_MAP_DATA	114472000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5128256
+SHUFFLE	COMPRESS_BYTE_COUNT	752094
+SHUFFLE	COPY_MAP_DATA	1025333000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5104592
+SHUFFLE	COMPRESS_BYTE_COUNT	748179
+SHUFFLE	COPY_MAP_DATA	51106000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5122340
+SHUFFLE	COMPRESS_BYTE_COUNT	751516
+SHUFFLE	COPY_MAP_DATA	45341000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1181774
+SHUFFLE	COMPRESS_BYTE_COUNT	171588
+SHUFFLE	COPY_MAP_DATA	12815000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5105204
+SHUFFLE	COMPRESS_BYTE_COUNT	748369
+SHUFFLE	COPY_MAP_DATA	154861000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1212782
+SHUFFLE	COMPRESS_BYTE_COUNT	175891
+SHUFFLE	COPY_MAP_DATA	212063000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1202378
+SHUFFLE	COMPRESS_BYTE_COUNT	174522
+SHUFFLE	COPY_MAP_DATA	12082000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1195136
+SHUFFLE	COMPRESS_BYTE_COUNT	173212
+SHUFFLE	COPY_MAP_DATA	23397000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5080928
+SHUFFLE	COMPRESS_BYTE_COUNT	745496
+SHUFFLE	COPY_MAP_DATA	55170000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1221146
+SHUFFLE	COMPRESS_BYTE_COUNT	177120
+SHUFFLE	COPY_MAP_DATA	13025000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1196870
+SHUFFLE	COMPRESS_BYTE_COUNT	173501
+SHUFFLE	COPY_MAP_DATA	222928000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1215638
+SHUFFLE	COMPRESS_BYTE_COUNT	176347
+SHUFFLE	COPY_MAP_DATA	40751000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1185344
+SHUFFLE	COMPRESS_BYTE_COUNT	172013
+SHUFFLE	COPY_MAP_DATA	12225000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5085008
+SHUFFLE	COMPRESS_BYTE_COUNT	746102
+SHUFFLE	COPY_MAP_DATA	42928000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1199726
+SHUFFLE	COMPRESS_BYTE_COUNT	174020
+SHUFFLE	COPY_MAP_DATA	23727000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1194524
+SHUFFLE	COMPRESS_BYTE_COUNT	173405
+SHUFFLE	COPY_MAP_DATA	35461000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5138150
+SHUFFLE	COMPRESS_BYTE_COUNT	753147
+SHUFFLE	COPY_MAP_DATA	43364000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1197380
+SHUFFLE	COMPRESS_BYTE_COUNT	173856
+SHUFFLE	COPY_MAP_DATA	11919000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5160080
+SHUFFLE	COMPRESS_BYTE_COUNT	756989
+SHUFFLE	COPY_MAP_DATA	69504000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5046146
+SHUFFLE	COMPRESS_BYTE_COUNT	740481
+SHUFFLE	COPY_MAP_DATA	334904000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5092658
+SHUFFLE	COMPRESS_BYTE_COUNT	746614
+SHUFFLE	COPY_MAP_DATA	133061000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1199726
+SHUFFLE	COMPRESS_BYTE_COUNT	174109
+SHUFFLE	COPY_MAP_DATA	8814493000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5141006
+SHUFFLE	COMPRESS_BYTE_COUNT	754134
+SHUFFLE	COPY_MAP_DATA	113897000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5112038
+SHUFFLE	COMPRESS_BYTE_COUNT	749672
+SHUFFLE	COPY_MAP_DATA	215865000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1220738
+SHUFFLE	COMPRESS_BYTE_COUNT	177130
+SHUFFLE	COPY_MAP_DATA	13531000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5135906
+SHUFFLE	COMPRESS_BYTE_COUNT	753037
+SHUFFLE	COPY_MAP_DATA	45381000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1208396
+SHUFFLE	COMPRESS_BYTE_COUNT	175315
+SHUFFLE	COPY_MAP_DATA	93159000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1220534
+SHUFFLE	COMPRESS_BYTE_COUNT	176965
+SHUFFLE	COPY_MAP_DATA	14411000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1200746
+SHUFFLE	COMPRESS_BYTE_COUNT	174111
+SHUFFLE	COPY_MAP_DATA	13694000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1206356
+SHUFFLE	COMPRESS_BYTE_COUNT	174816
+SHUFFLE	COPY_MAP_DATA	12803000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1210232
+SHUFFLE	COMPRESS_BYTE_COUNT	175682
+SHUFFLE	COPY_MAP_DATA	78908000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1225634
+SHUFFLE	COMPRESS_BYTE_COUNT	177558
+SHUFFLE	COPY_MAP_DATA	25314000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1205846
+SHUFFLE	COMPRESS_BYTE_COUNT	174859
+SHUFFLE	COPY_MAP_DATA	13255000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1196564
+SHUFFLE	COMPRESS_BYTE_COUNT	173630
+SHUFFLE	COPY_MAP_DATA	13954000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1212782
+SHUFFLE	COMPRESS_BYTE_COUNT	175841
+SHUFFLE	COPY_MAP_DATA	13898000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1204724
+SHUFFLE	COMPRESS_BYTE_COUNT	174864
+SHUFFLE	COPY_MAP_DATA	13665000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5096024
+SHUFFLE	COMPRESS_BYTE_COUNT	747383
+SHUFFLE	COPY_MAP_DATA	2017594000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1179020
+SHUFFLE	COMPRESS_BYTE_COUNT	171130
+SHUFFLE	COPY_MAP_DATA	462127000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5130806
+SHUFFLE	COMPRESS_BYTE_COUNT	752659
+SHUFFLE	COPY_MAP_DATA	79424000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1201970
+SHUFFLE	COMPRESS_BYTE_COUNT	174379
+SHUFFLE	COPY_MAP_DATA	8584360000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1215332
+SHUFFLE	COMPRESS_BYTE_COUNT	176347
+SHUFFLE	COPY_MAP_DATA	41190000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5113772
+SHUFFLE	COMPRESS_BYTE_COUNT	750323
+SHUFFLE	COPY_MAP_DATA	1169177000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1227776
+SHUFFLE	COMPRESS_BYTE_COUNT	178267
+SHUFFLE	COPY_MAP_DATA	27964000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1202378
+SHUFFLE	COMPRESS_BYTE_COUNT	174356
+SHUFFLE	COPY_MAP_DATA	13012000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1213904
+SHUFFLE	COMPRESS_BYTE_COUNT	175921
+SHUFFLE	COPY_MAP_DATA	24818000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1205642
+SHUFFLE	COMPRESS_BYTE_COUNT	174859
+SHUFFLE	COPY_MAP_DATA	58133000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5130602
+SHUFFLE	COMPRESS_BYTE_COUNT	752744
+SHUFFLE	COPY_MAP_DATA	42216000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1204826
+SHUFFLE	COMPRESS_BYTE_COUNT	174763
+SHUFFLE	COPY_MAP_DATA	311290000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1181366
+SHUFFLE	COMPRESS_BYTE_COUNT	171395
+SHUFFLE	COPY_MAP_DATA	23200000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1208600
+SHUFFLE	COMPRESS_BYTE_COUNT	175264
+SHUFFLE	COPY_MAP_DATA	31246000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1194728
+SHUFFLE	COMPRESS_BYTE_COUNT	173430
+SHUFFLE	COPY_MAP_DATA	15221000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1195442
+SHUFFLE	COMPRESS_BYTE_COUNT	173618
+SHUFFLE	COPY_MAP_DATA	1558138000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1203296
+SHUFFLE	COMPRESS_BYTE_COUNT	174639
+SHUFFLE	COPY_MAP_DATA	14307000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1213700
+SHUFFLE	COMPRESS_BYTE_COUNT	175900
+SHUFFLE	COPY_MAP_DATA	25275000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1192892
+SHUFFLE	COMPRESS_BYTE_COUNT	173064
+SHUFFLE	COPY_MAP_DATA	18328000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5104286
+SHUFFLE	COMPRESS_BYTE_COUNT	748331
+SHUFFLE	COPY_MAP_DATA	3140264000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1201052
+SHUFFLE	COMPRESS_BYTE_COUNT	174337
+SHUFFLE	COPY_MAP_DATA	35767000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5083274
+SHUFFLE	COMPRESS_BYTE_COUNT	745504
+SHUFFLE	COPY_MAP_DATA	49746000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1190852
+SHUFFLE	COMPRESS_BYTE_COUNT	172756
+SHUFFLE	COPY_MAP_DATA	768958000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5131826
+SHUFFLE	COMPRESS_BYTE_COUNT	752205
+SHUFFLE	COPY_MAP_DATA	43591000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1199012
+SHUFFLE	COMPRESS_BYTE_COUNT	173997
+SHUFFLE	COPY_MAP_DATA	10001309000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1201970
+SHUFFLE	COMPRESS_BYTE_COUNT	174390
+SHUFFLE	COPY_MAP_DATA	82592000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1203194
+SHUFFLE	COMPRESS_BYTE_COUNT	174674
+SHUFFLE	COPY_MAP_DATA	85686000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5089700
+SHUFFLE	COMPRESS_BYTE_COUNT	746151
+SHUFFLE	COPY_MAP_DATA	51994000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1176470
+SHUFFLE	COMPRESS_BYTE_COUNT	170641
+SHUFFLE	COPY_MAP_DATA	158330000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5084192
+SHUFFLE	COMPRESS_BYTE_COUNT	746217
+SHUFFLE	COPY_MAP_DATA	55455000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1197584
+SHUFFLE	COMPRESS_BYTE_COUNT	173733
+SHUFFLE	COPY_MAP_DATA	22427000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1192586
+SHUFFLE	COMPRESS_BYTE_COUNT	172974
+SHUFFLE	COPY_MAP_DATA	13465000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1199726
+SHUFFLE	COMPRESS_BYTE_COUNT	174055
+SHUFFLE	COPY_MAP_DATA	13282000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1179020
+SHUFFLE	COMPRESS_BYTE_COUNT	171093
+SHUFFLE	COPY_MAP_DATA	20789000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1198910
+SHUFFLE	COMPRESS_BYTE_COUNT	173834
+SHUFFLE	COPY_MAP_DATA	202114000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1186976
+SHUFFLE	COMPRESS_BYTE_COUNT	172328
+SHUFFLE	COPY_MAP_DATA	1230479000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1185140
+SHUFFLE	COMPRESS_BYTE_COUNT	171902
+SHUFFLE	COPY_MAP_DATA	12310000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1177388
+SHUFFLE	COMPRESS_BYTE_COUNT	170892
+SHUFFLE	COPY_MAP_DATA	18872000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5116322
+SHUFFLE	COMPRESS_BYTE_COUNT	750055
+SHUFFLE	COPY_MAP_DATA	112366000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1193810
+SHUFFLE	COMPRESS_BYTE_COUNT	173250
+SHUFFLE	COPY_MAP_DATA	13589000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1186058
+SHUFFLE	COMPRESS_BYTE_COUNT	172055
+SHUFFLE	COPY_MAP_DATA	31323000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1202276
+SHUFFLE	COMPRESS_BYTE_COUNT	174507
+SHUFFLE	COPY_MAP_DATA	13981000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1227980
+SHUFFLE	COMPRESS_BYTE_COUNT	178141
+SHUFFLE	COPY_MAP_DATA	1084519000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1198910
+SHUFFLE	COMPRESS_BYTE_COUNT	173831
+SHUFFLE	COPY_MAP_DATA	15595000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1200644
+SHUFFLE	COMPRESS_BYTE_COUNT	174173
+SHUFFLE	COPY_MAP_DATA	13374000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1200338
+SHUFFLE	COMPRESS_BYTE_COUNT	174159
+SHUFFLE	COPY_MAP_DATA	421405000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1211150
+SHUFFLE	COMPRESS_BYTE_COUNT	175590
+SHUFFLE	COPY_MAP_DATA	13103000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1205540
+SHUFFLE	COMPRESS_BYTE_COUNT	174833
+SHUFFLE	COPY_MAP_DATA	23755000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1198910
+SHUFFLE	COMPRESS_BYTE_COUNT	173938
+SHUFFLE	COPY_MAP_DATA	13056000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1198604
+SHUFFLE	COMPRESS_BYTE_COUNT	173890
+SHUFFLE	COPY_MAP_DATA	12187000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1176164
+SHUFFLE	COMPRESS_BYTE_COUNT	170624
+SHUFFLE	COPY_MAP_DATA	13402000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1218086
+SHUFFLE	COMPRESS_BYTE_COUNT	176631
+SHUFFLE	COPY_MAP_DATA	16089000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1204316
+SHUFFLE	COMPRESS_BYTE_COUNT	174595
+SHUFFLE	COPY_MAP_DATA	13832000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1201766
+SHUFFLE	COMPRESS_BYTE_COUNT	174389
+SHUFFLE	COPY_MAP_DATA	13899000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1207682
+SHUFFLE	COMPRESS_BYTE_COUNT	175260
+SHUFFLE	COPY_MAP_DATA	12948000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1199318
+SHUFFLE	COMPRESS_BYTE_COUNT	173881
+SHUFFLE	COPY_MAP_DATA	12392000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1186058
+SHUFFLE	COMPRESS_BYTE_COUNT	172030
+SHUFFLE	COPY_MAP_DATA	23407000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1205132
+SHUFFLE	COMPRESS_BYTE_COUNT	174841
+SHUFFLE	COPY_MAP_DATA	12807000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1188608
+SHUFFLE	COMPRESS_BYTE_COUNT	172375
+SHUFFLE	COPY_MAP_DATA	12618000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1211966
+SHUFFLE	COMPRESS_BYTE_COUNT	175768
+SHUFFLE	COPY_MAP_DATA	52382000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1192280
+SHUFFLE	COMPRESS_BYTE_COUNT	172830
+SHUFFLE	COPY_MAP_DATA	12125000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1202684
+SHUFFLE	COMPRESS_BYTE_COUNT	174574
+SHUFFLE	COPY_MAP_DATA	13104000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1217270
+SHUFFLE	COMPRESS_BYTE_COUNT	176565
+SHUFFLE	COPY_MAP_DATA	12220000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1191668
+SHUFFLE	COMPRESS_BYTE_COUNT	172857
+SHUFFLE	COPY_MAP_DATA	22750000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1191770
+SHUFFLE	COMPRESS_BYTE_COUNT	172957
+SHUFFLE	COPY_MAP_DATA	12473000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1197992
+SHUFFLE	COMPRESS_BYTE_COUNT	173781
+SHUFFLE	COPY_MAP_DATA	12224000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1199828
+SHUFFLE	COMPRESS_BYTE_COUNT	174038
+SHUFFLE	COPY_MAP_DATA	14896000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1180244
+SHUFFLE	COMPRESS_BYTE_COUNT	171224
+SHUFFLE	COPY_MAP_DATA	13876000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1212068
+SHUFFLE	COMPRESS_BYTE_COUNT	175866
+SHUFFLE	COPY_MAP_DATA	56633000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1205948
+SHUFFLE	COMPRESS_BYTE_COUNT	174941
+SHUFFLE	COPY_MAP_DATA	12065000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1210538
+SHUFFLE	COMPRESS_BYTE_COUNT	175671
+SHUFFLE	COPY_MAP_DATA	11550000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1192484
+SHUFFLE	COMPRESS_BYTE_COUNT	173091
+SHUFFLE	COPY_MAP_DATA	32393000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1193300
+SHUFFLE	COMPRESS_BYTE_COUNT	173221
+SHUFFLE	COPY_MAP_DATA	12311000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1189322
+SHUFFLE	COMPRESS_BYTE_COUNT	172545
+SHUFFLE	COPY_MAP_DATA	46260000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1210844
+SHUFFLE	COMPRESS_BYTE_COUNT	175702
+SHUFFLE	COPY_MAP_DATA	12030000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1185140
+SHUFFLE	COMPRESS_BYTE_COUNT	171878
+SHUFFLE	COPY_MAP_DATA	11620000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	285115488000
+MERGE	READ_WRITE	271275636000
+MERGE	READ_WRITE_COUNT	8
+MERGE	COMBINE	0
+MERGE	WRITE	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	9471850000
+SORT	READ_WRITE	9328688000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	172796072
+REDUCE	SETUP	378000
+REDUCE	SETUP_MEM	172796072
+REDUCE	CLEANUP	29000
+REDUCE	CLEANUP_MEM	209760528
+REDUCE	TOTAL_RUN	163289973000
+REDUCE	READ	21400256000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	84520897000
+REDUCE	WRITE	34405197000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	111940920
+REDUCE	VALUE_BYTE_COUNT	985080096
+REDUCE	REDUCE_MEM	209762576
+REDUCE	WRITE	27859000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	711926047027
@@ -0,0 +1,1229 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4971992
+SHUFFLE	COMPRESS_BYTE_COUNT	729485
+SHUFFLE	COPY_MAP_DATA	1121289000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4997186
+SHUFFLE	COMPRESS_BYTE_COUNT	732671
+SHUFFLE	COPY_MAP_DATA	67257000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4960262
+SHUFFLE	COMPRESS_BYTE_COUNT	727816
+SHUFFLE	COPY_MAP_DATA	217771000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4958222
+SHUFFLE	COMPRESS_BYTE_COUNT	727551
+SHUFFLE	COPY_MAP_DATA	165151000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4985864
+SHUFFLE	COMPRESS_BYTE_COUNT	731014
+SHUFFLE	COPY_MAP_DATA	96684000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4942514
+SHUFFLE	COMPRESS_BYTE_COUNT	724901
+SHUFFLE	COPY_MAP_DATA	55174000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4980050
+SHUFFLE	COMPRESS_BYTE_COUNT	730536
+SHUFFLE	COPY_MAP_DATA	68823000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4971890
+SHUFFLE	COMPRESS_BYTE_COUNT	729399
+SHUFFLE	COPY_MAP_DATA	46263000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4952612
+SHUFFLE	COMPRESS_BYTE_COUNT	726094
+SHUFFLE	COPY_MAP_DATA	89692000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4943126
+SHUFFLE	COMPRESS_BYTE_COUNT	725004
+SHUFFLE	COPY_MAP_DATA	179061000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5010752
+SHUFFLE	COMPRESS_BYTE_COUNT	734566
+SHUFFLE	COPY_MAP_DATA	179128000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4980764
+SHUFFLE	COMPRESS_BYTE_COUNT	730783
+SHUFFLE	COPY_MAP_DATA	3354050000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4984538
+SHUFFLE	COMPRESS_BYTE_COUNT	731041
+SHUFFLE	COPY_MAP_DATA	47011000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4930274
+SHUFFLE	COMPRESS_BYTE_COUNT	723054
+SHUFFLE	COPY_MAP_DATA	74899000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5004020
+SHUFFLE	COMPRESS_BYTE_COUNT	732985
+SHUFFLE	COPY_MAP_DATA	72719000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4956488
+SHUFFLE	COMPRESS_BYTE_COUNT	727116
+SHUFFLE	COPY_MAP_DATA	45141000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4971176
+SHUFFLE	COMPRESS_BYTE_COUNT	729006
+SHUFFLE	COPY_MAP_DATA	50427000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4950266
+SHUFFLE	COMPRESS_BYTE_COUNT	725858
+SHUFFLE	COPY_MAP_DATA	51159000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4962608
+SHUFFLE	COMPRESS_BYTE_COUNT	728081
+SHUFFLE	COPY_MAP_DATA	255746000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4955570
+SHUFFLE	COMPRESS_BYTE_COUNT	726657
+SHUFFLE	COPY_MAP_DATA	47875000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4930886
+SHUFFLE	COMPRESS_BYTE_COUNT	722899
+SHUFFLE	COPY_MAP_DATA	142946000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4972196
+SHUFFLE	COMPRESS_BYTE_COUNT	728947
+SHUFFLE	COPY_MAP_DATA	189090000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4973114
+SHUFFLE	COMPRESS_BYTE_COUNT	729223
+SHUFFLE	COPY_MAP_DATA	46383000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4970564
+SHUFFLE	COMPRESS_BYTE_COUNT	728928
+SHUFFLE	COPY_MAP_DATA	394748000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4947308
+SHUFFLE	COMPRESS_BYTE_COUNT	725728
+SHUFFLE	COPY_MAP_DATA	48896000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4968422
+SHUFFLE	COMPRESS_BYTE_COUNT	728870
+SHUFFLE	COPY_MAP_DATA	56450000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4933946
+SHUFFLE	COMPRESS_BYTE_COUNT	723977
+SHUFFLE	COPY_MAP_DATA	46623000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4966688
+SHUFFLE	COMPRESS_BYTE_COUNT	728781
+SHUFFLE	COPY_MAP_DATA	112741000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4966382
+SHUFFLE	COMPRESS_BYTE_COUNT	728090
+SHUFFLE	COPY_MAP_DATA	144594000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4960364
+SHUFFLE	COMPRESS_BYTE_COUNT	727598
+SHUFFLE	COPY_MAP_DATA	1608029000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4984844
+SHUFFLE	COMPRESS_BYTE_COUNT	731133
+SHUFFLE	COPY_MAP_DATA	5759617000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4923848
+SHUFFLE	COMPRESS_BYTE_COUNT	722349
+SHUFFLE	COPY_MAP_DATA	1045657000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4936904
+SHUFFLE	COMPRESS_BYTE_COUNT	724150
+SHUFFLE	COPY_MAP_DATA	330680000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4964852
+SHUFFLE	COMPRESS_BYTE_COUNT	728299
+SHUFFLE	COPY_MAP_DATA	43610000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4963220
+SHUFFLE	COMPRESS_BYTE_COUNT	728199
+SHUFFLE	COPY_MAP_DATA	49235000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4961588
+SHUFFLE	COMPRESS_BYTE_COUNT	727487
+SHUFFLE	COPY_MAP_DATA	60117000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4963424
+SHUFFLE	COMPRESS_BYTE_COUNT	728155
+SHUFFLE	COPY_MAP_DATA	512212000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4965974
+SHUFFLE	COMPRESS_BYTE_COUNT	728733
+SHUFFLE	COPY_MAP_DATA	60305000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4979438
+SHUFFLE	COMPRESS_BYTE_COUNT	730559
+SHUFFLE	COPY_MAP_DATA	734657000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4966382
+SHUFFLE	COMPRESS_BYTE_COUNT	727977
+SHUFFLE	COPY_MAP_DATA	438971000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4968524
+SHUFFLE	COMPRESS_BYTE_COUNT	728455
+SHUFFLE	COPY_MAP_DATA	180984000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4937618
+SHUFFLE	COMPRESS_BYTE_COUNT	724058
+SHUFFLE	COPY_MAP_DATA	378573000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4998104
+SHUFFLE	COMPRESS_BYTE_COUNT	733247
+SHUFFLE	COPY_MAP_DATA	263189000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4958120
+SHUFFLE	COMPRESS_BYTE_COUNT	727079
+SHUFFLE	COPY_MAP_DATA	374060000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4963526
+SHUFFLE	COMPRESS_BYTE_COUNT	727657
+SHUFFLE	COPY_MAP_DATA	1720478000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4994636
+SHUFFLE	COMPRESS_BYTE_COUNT	732445
+SHUFFLE	COPY_MAP_DATA	2862260000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4988924
+SHUFFLE	COMPRESS_BYTE_COUNT	731716
+SHUFFLE	COPY_MAP_DATA	390731000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4952102
+SHUFFLE	COMPRESS_BYTE_COUNT	726136
+SHUFFLE	COPY_MAP_DATA	49521000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5001164
+SHUFFLE	COMPRESS_BYTE_COUNT	733326
+SHUFFLE	COPY_MAP_DATA	51354000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4961690
+SHUFFLE	COMPRESS_BYTE_COUNT	728100
+SHUFFLE	COPY_MAP_DATA	67573000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4955672
+SHUFFLE	COMPRESS_BYTE_COUNT	727114
+SHUFFLE	COPY_MAP_DATA	44316000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4947002
+SHUFFLE	COMPRESS_BYTE_COUNT	725969
+SHUFFLE	COPY_MAP_DATA	53020000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4967810
+SHUFFLE	COMPRESS_BYTE_COUNT	728592
+SHUFFLE	COPY_MAP_DATA	64854000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4969136
+SHUFFLE	COMPRESS_BYTE_COUNT	724471
+SHUFFLE	COPY_MAP_DATA	43752000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4923440
+SHUFFLE	COMPRESS_BYTE_COUNT	721967
+SHUFFLE	COPY_MAP_DATA	51369000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4982600
+SHUFFLE	COMPRESS_BYTE_COUNT	730744
+SHUFFLE	COPY_MAP_DATA	186030000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4956284
+SHUFFLE	COMPRESS_BYTE_COUNT	726734
+SHUFFLE	COPY_MAP_DATA	43764000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4933946
+SHUFFLE	COMPRESS_BYTE_COUNT	723578
+SHUFFLE	COPY_MAP_DATA	95128000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4929560
+SHUFFLE	COMPRESS_BYTE_COUNT	723159
+SHUFFLE	COPY_MAP_DATA	221859000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4960976
+SHUFFLE	COMPRESS_BYTE_COUNT	727795
+SHUFFLE	COPY_MAP_DATA	611923000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4975868
+SHUFFLE	COMPRESS_BYTE_COUNT	730054
+SHUFFLE	COPY_MAP_DATA	2632856000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5031662
+SHUFFLE	COMPRESS_BYTE_COUNT	737788
+SHUFFLE	COPY_MAP_DATA	44821000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4943534
+SHUFFLE	COMPRESS_BYTE_COUNT	725376
+SHUFFLE	COPY_MAP_DATA	43972000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4943840
+SHUFFLE	COMPRESS_BYTE_COUNT	724735
+SHUFFLE	COPY_MAP_DATA	42349000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4953734
+SHUFFLE	COMPRESS_BYTE_COUNT	726351
+SHUFFLE	COPY_MAP_DATA	132497000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4936088
+SHUFFLE	COMPRESS_BYTE_COUNT	724400
+SHUFFLE	COPY_MAP_DATA	872859000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4953836
+SHUFFLE	COMPRESS_BYTE_COUNT	726951
+SHUFFLE	COPY_MAP_DATA	3306645000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4980356
+SHUFFLE	COMPRESS_BYTE_COUNT	730551
+SHUFFLE	COPY_MAP_DATA	395185000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4966586
+SHUFFLE	COMPRESS_BYTE_COUNT	729148
+SHUFFLE	COPY_MAP_DATA	113028000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4949144
+SHUFFLE	COMPRESS_BYTE_COUNT	725908
+SHUFFLE	COPY_MAP_DATA	73117000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4931804
+SHUFFLE	COMPRESS_BYTE_COUNT	723446
+SHUFFLE	COPY_MAP_DATA	409433000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4953734
+SHUFFLE	COMPRESS_BYTE_COUNT	726077
+SHUFFLE	COPY_MAP_DATA	121920000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4952102
+SHUFFLE	COMPRESS_BYTE_COUNT	726457
+SHUFFLE	COPY_MAP_DATA	235926000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4956692
+SHUFFLE	COMPRESS_BYTE_COUNT	726962
+SHUFFLE	COPY_MAP_DATA	116748000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4942310
+SHUFFLE	COMPRESS_BYTE_COUNT	724559
+SHUFFLE	COPY_MAP_DATA	750781000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4985660
+SHUFFLE	COMPRESS_BYTE_COUNT	730597
+SHUFFLE	COPY_MAP_DATA	42745000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4977908
+SHUFFLE	COMPRESS_BYTE_COUNT	730231
+SHUFFLE	COPY_MAP_DATA	5963180000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4968218
+SHUFFLE	COMPRESS_BYTE_COUNT	728729
+SHUFFLE	COPY_MAP_DATA	43980000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4984130
+SHUFFLE	COMPRESS_BYTE_COUNT	730571
+SHUFFLE	COPY_MAP_DATA	8635468000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4961384
+SHUFFLE	COMPRESS_BYTE_COUNT	727924
+SHUFFLE	COPY_MAP_DATA	335899000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4976174
+SHUFFLE	COMPRESS_BYTE_COUNT	730242
+SHUFFLE	COPY_MAP_DATA	44426000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4960364
+SHUFFLE	COMPRESS_BYTE_COUNT	727993
+SHUFFLE	COPY_MAP_DATA	44469000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4926806
+SHUFFLE	COMPRESS_BYTE_COUNT	722689
+SHUFFLE	COPY_MAP_DATA	7453527000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4926194
+SHUFFLE	COMPRESS_BYTE_COUNT	722411
+SHUFFLE	COPY_MAP_DATA	44095000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4958834
+SHUFFLE	COMPRESS_BYTE_COUNT	727596
+SHUFFLE	COPY_MAP_DATA	50144000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4956794
+SHUFFLE	COMPRESS_BYTE_COUNT	726730
+SHUFFLE	COPY_MAP_DATA	86456000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4999430
+SHUFFLE	COMPRESS_BYTE_COUNT	732818
+SHUFFLE	COPY_MAP_DATA	44581000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4938434
+SHUFFLE	COMPRESS_BYTE_COUNT	724057
+SHUFFLE	COPY_MAP_DATA	8934925000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4919462
+SHUFFLE	COMPRESS_BYTE_COUNT	721554
+SHUFFLE	COPY_MAP_DATA	64798000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4961894
+SHUFFLE	COMPRESS_BYTE_COUNT	728104
+SHUFFLE	COPY_MAP_DATA	43542000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4986476
+SHUFFLE	COMPRESS_BYTE_COUNT	731722
+SHUFFLE	COPY_MAP_DATA	60496000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4988822
+SHUFFLE	COMPRESS_BYTE_COUNT	731439
+SHUFFLE	COPY_MAP_DATA	55227000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5024012
+SHUFFLE	COMPRESS_BYTE_COUNT	736640
+SHUFFLE	COPY_MAP_DATA	44259000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5016362
+SHUFFLE	COMPRESS_BYTE_COUNT	735684
+SHUFFLE	COPY_MAP_DATA	2188673000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4957304
+SHUFFLE	COMPRESS_BYTE_COUNT	727238
+SHUFFLE	COPY_MAP_DATA	44571000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4936496
+SHUFFLE	COMPRESS_BYTE_COUNT	724291
+SHUFFLE	COPY_MAP_DATA	42838000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4955672
+SHUFFLE	COMPRESS_BYTE_COUNT	726400
+SHUFFLE	COPY_MAP_DATA	49879000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4959956
+SHUFFLE	COMPRESS_BYTE_COUNT	727261
+SHUFFLE	COPY_MAP_DATA	45058000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4963220
+SHUFFLE	COMPRESS_BYTE_COUNT	727687
+SHUFFLE	COPY_MAP_DATA	438568000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4948022
+SHUFFLE	COMPRESS_BYTE_COUNT	725590
+SHUFFLE	COPY_MAP_DATA	137822000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4962404
+SHUFFLE	COMPRESS_BYTE_COUNT	727891
+SHUFFLE	COPY_MAP_DATA	53639000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4980866
+SHUFFLE	COMPRESS_BYTE_COUNT	730554
+SHUFFLE	COPY_MAP_DATA	3085212000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4968422
+SHUFFLE	COMPRESS_BYTE_COUNT	728469
+SHUFFLE	COPY_MAP_DATA	64865000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4987394
+SHUFFLE	COMPRESS_BYTE_COUNT	731607
+SHUFFLE	COPY_MAP_DATA	67219000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4966994
+SHUFFLE	COMPRESS_BYTE_COUNT	728450
+SHUFFLE	COPY_MAP_DATA	71816000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4945268
+SHUFFLE	COMPRESS_BYTE_COUNT	725422
+SHUFFLE	COPY_MAP_DATA	278891000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4950368
+SHUFFLE	COMPRESS_BYTE_COUNT	725664
+SHUFFLE	COPY_MAP_DATA	286142000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4923848
+SHUFFLE	COMPRESS_BYTE_COUNT	722160
+SHUFFLE	COPY_MAP_DATA	4602565000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4974644
+SHUFFLE	COMPRESS_BYTE_COUNT	729452
+SHUFFLE	COPY_MAP_DATA	367759000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4952714
+SHUFFLE	COMPRESS_BYTE_COUNT	726521
+SHUFFLE	COPY_MAP_DATA	44437000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5004938
+SHUFFLE	COMPRESS_BYTE_COUNT	733696
+SHUFFLE	COPY_MAP_DATA	182796000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4972604
+SHUFFLE	COMPRESS_BYTE_COUNT	729317
+SHUFFLE	COPY_MAP_DATA	46221000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4962506
+SHUFFLE	COMPRESS_BYTE_COUNT	727975
+SHUFFLE	COPY_MAP_DATA	166556000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4951184
+SHUFFLE	COMPRESS_BYTE_COUNT	726347
+SHUFFLE	COPY_MAP_DATA	44025000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4950878
+SHUFFLE	COMPRESS_BYTE_COUNT	726497
+SHUFFLE	COPY_MAP_DATA	380954000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4979030
+SHUFFLE	COMPRESS_BYTE_COUNT	729932
+SHUFFLE	COPY_MAP_DATA	64422000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4974338
+SHUFFLE	COMPRESS_BYTE_COUNT	729133
+SHUFFLE	COPY_MAP_DATA	48844000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4952102
+SHUFFLE	COMPRESS_BYTE_COUNT	726317
+SHUFFLE	COPY_MAP_DATA	504149000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4957100
+SHUFFLE	COMPRESS_BYTE_COUNT	726862
+SHUFFLE	COPY_MAP_DATA	418378000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4973624
+SHUFFLE	COMPRESS_BYTE_COUNT	729535
+SHUFFLE	COPY_MAP_DATA	209887000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4961996
+SHUFFLE	COMPRESS_BYTE_COUNT	727980
+SHUFFLE	COPY_MAP_DATA	44176000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4943126
+SHUFFLE	COMPRESS_BYTE_COUNT	724829
+SHUFFLE	COPY_MAP_DATA	73617000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4966280
+SHUFFLE	COMPRESS_BYTE_COUNT	728297
+SHUFFLE	COPY_MAP_DATA	44330000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4948838
+SHUFFLE	COMPRESS_BYTE_COUNT	725746
+SHUFFLE	COPY_MAP_DATA	45762000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4962200
+SHUFFLE	COMPRESS_BYTE_COUNT	727721
+SHUFFLE	COPY_MAP_DATA	44594000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4988516
+SHUFFLE	COMPRESS_BYTE_COUNT	731566
+SHUFFLE	COPY_MAP_DATA	43902000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4964954
+SHUFFLE	COMPRESS_BYTE_COUNT	728290
+SHUFFLE	COPY_MAP_DATA	60660000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4999736
+SHUFFLE	COMPRESS_BYTE_COUNT	733590
+SHUFFLE	COPY_MAP_DATA	42408000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4929050
+SHUFFLE	COMPRESS_BYTE_COUNT	723233
+SHUFFLE	COPY_MAP_DATA	1078914000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4956488
+SHUFFLE	COMPRESS_BYTE_COUNT	727300
+SHUFFLE	COPY_MAP_DATA	65057000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4950674
+SHUFFLE	COMPRESS_BYTE_COUNT	726350
+SHUFFLE	COPY_MAP_DATA	48349000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4973216
+SHUFFLE	COMPRESS_BYTE_COUNT	729066
+SHUFFLE	COPY_MAP_DATA	44796000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4942310
+SHUFFLE	COMPRESS_BYTE_COUNT	724861
+SHUFFLE	COPY_MAP_DATA	45531000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4956080
+SHUFFLE	COMPRESS_BYTE_COUNT	726822
+SHUFFLE	COPY_MAP_DATA	46425000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4962302
+SHUFFLE	COMPRESS_BYTE_COUNT	727493
+SHUFFLE	COPY_MAP_DATA	82067000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4949654
+SHUFFLE	COMPRESS_BYTE_COUNT	719365
+SHUFFLE	COPY_MAP_DATA	43408000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4959752
+SHUFFLE	COMPRESS_BYTE_COUNT	727461
+SHUFFLE	COPY_MAP_DATA	46061000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4947818
+SHUFFLE	COMPRESS_BYTE_COUNT	725421
+SHUFFLE	COPY_MAP_DATA	412386000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4948430
+SHUFFLE	COMPRESS_BYTE_COUNT	725573
+SHUFFLE	COPY_MAP_DATA	53031000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5008916
+SHUFFLE	COMPRESS_BYTE_COUNT	734964
+SHUFFLE	COPY_MAP_DATA	44756000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4910180
+SHUFFLE	COMPRESS_BYTE_COUNT	720059
+SHUFFLE	COPY_MAP_DATA	43291000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4962404
+SHUFFLE	COMPRESS_BYTE_COUNT	727815
+SHUFFLE	COPY_MAP_DATA	1502309000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4936394
+SHUFFLE	COMPRESS_BYTE_COUNT	724292
+SHUFFLE	COPY_MAP_DATA	400166000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4985354
+SHUFFLE	COMPRESS_BYTE_COUNT	730835
+SHUFFLE	COPY_MAP_DATA	439745000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4933436
+SHUFFLE	COMPRESS_BYTE_COUNT	723438
+SHUFFLE	COPY_MAP_DATA	61591000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1168208
+SHUFFLE	COMPRESS_BYTE_COUNT	169635
+SHUFFLE	COPY_MAP_DATA	13614000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4984640
+SHUFFLE	COMPRESS_BYTE_COUNT	730579
+SHUFFLE	COPY_MAP_DATA	48445000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1176674
+SHUFFLE	COMPRESS_BYTE_COUNT	170777
+SHUFFLE	COPY_MAP_DATA	403222000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4938842
+SHUFFLE	COMPRESS_BYTE_COUNT	724044
+SHUFFLE	COPY_MAP_DATA	44385000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4980050
+SHUFFLE	COMPRESS_BYTE_COUNT	730238
+SHUFFLE	COPY_MAP_DATA	11833220000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1168106
+SHUFFLE	COMPRESS_BYTE_COUNT	169383
+SHUFFLE	COPY_MAP_DATA	45830000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4970156
+SHUFFLE	COMPRESS_BYTE_COUNT	729197
+SHUFFLE	COPY_MAP_DATA	43887000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4969544
+SHUFFLE	COMPRESS_BYTE_COUNT	728995
+SHUFFLE	COPY_MAP_DATA	87081000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4980458
+SHUFFLE	COMPRESS_BYTE_COUNT	730772
+SHUFFLE	COPY_MAP_DATA	68701000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4963118
+SHUFFLE	COMPRESS_BYTE_COUNT	727893
+SHUFFLE	COPY_MAP_DATA	6253811000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4972808
+SHUFFLE	COMPRESS_BYTE_COUNT	729584
+SHUFFLE	COPY_MAP_DATA	282334000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4948532
+SHUFFLE	COMPRESS_BYTE_COUNT	725897
+SHUFFLE	COPY_MAP_DATA	209326000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1166678
+SHUFFLE	COMPRESS_BYTE_COUNT	169384
+SHUFFLE	COPY_MAP_DATA	1773190000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4964954
+SHUFFLE	COMPRESS_BYTE_COUNT	727914
+SHUFFLE	COPY_MAP_DATA	464210000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4969238
+SHUFFLE	COMPRESS_BYTE_COUNT	728902
+SHUFFLE	COPY_MAP_DATA	484355000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1169636
+SHUFFLE	COMPRESS_BYTE_COUNT	169727
+SHUFFLE	COPY_MAP_DATA	12535000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4954244
+SHUFFLE	COMPRESS_BYTE_COUNT	726333
+SHUFFLE	COPY_MAP_DATA	43491000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4975460
+SHUFFLE	COMPRESS_BYTE_COUNT	729976
+SHUFFLE	COPY_MAP_DATA	643235000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4944350
+SHUFFLE	COMPRESS_BYTE_COUNT	724956
+SHUFFLE	COPY_MAP_DATA	52353000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4976072
+SHUFFLE	COMPRESS_BYTE_COUNT	729394
+SHUFFLE	COPY_MAP_DATA	42227000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4932824
+SHUFFLE	COMPRESS_BYTE_COUNT	723721
+SHUFFLE	COPY_MAP_DATA	219240000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4977398
+SHUFFLE	COMPRESS_BYTE_COUNT	730364
+SHUFFLE	COPY_MAP_DATA	41946000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4947410
+SHUFFLE	COMPRESS_BYTE_COUNT	725794
+SHUFFLE	COPY_MAP_DATA	338010000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4928948
+SHUFFLE	COMPRESS_BYTE_COUNT	722981
+SHUFFLE	COPY_MAP_DATA	74919000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4925174
+SHUFFLE	COMPRESS_BYTE_COUNT	722189
+SHUFFLE	COPY_MAP_DATA	630181000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4968524
+SHUFFLE	COMPRESS_BYTE_COUNT	728441
+SHUFFLE	COPY_MAP_DATA	1099101000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1167290
+SHUFFLE	COMPRESS_BYTE_COUNT	169438
+SHUFFLE	COPY_MAP_DATA	12360000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5004938
+SHUFFLE	COMPRESS_BYTE_COUNT	734021
+SHUFFLE	COPY_MAP_DATA	5782050000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1153112
+SHUFFLE	COMPRESS_BYTE_COUNT	167386
+SHUFFLE	COPY_MAP_DATA	44315000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1161680
+SHUFFLE	COMPRESS_BYTE_COUNT	168577
+SHUFFLE	COPY_MAP_DATA	568648000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5011466
+SHUFFLE	COMPRESS_BYTE_COUNT	734825
+SHUFFLE	COPY_MAP_DATA	97076000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4956590
+SHUFFLE	COMPRESS_BYTE_COUNT	726660
+SHUFFLE	COPY_MAP_DATA	4331493000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4999532
+SHUFFLE	COMPRESS_BYTE_COUNT	733372
+SHUFFLE	COPY_MAP_DATA	42080000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4959854
+SHUFFLE	COMPRESS_BYTE_COUNT	727565
+SHUFFLE	COPY_MAP_DATA	795295000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4949756
+SHUFFLE	COMPRESS_BYTE_COUNT	726299
+SHUFFLE	COPY_MAP_DATA	123497000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5018504
+SHUFFLE	COMPRESS_BYTE_COUNT	736034
+SHUFFLE	COPY_MAP_DATA	246547000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1192280
+SHUFFLE	COMPRESS_BYTE_COUNT	173006
+SHUFFLE	COPY_MAP_DATA	136085000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1162904
+SHUFFLE	COMPRESS_BYTE_COUNT	168747
+SHUFFLE	COPY_MAP_DATA	12798919000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4969136
+SHUFFLE	COMPRESS_BYTE_COUNT	728595
+SHUFFLE	COPY_MAP_DATA	44165000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4961384
+SHUFFLE	COMPRESS_BYTE_COUNT	727582
+SHUFFLE	COPY_MAP_DATA	53993000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4942718
+SHUFFLE	COMPRESS_BYTE_COUNT	725006
+SHUFFLE	COPY_MAP_DATA	51802000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1184426
+SHUFFLE	COMPRESS_BYTE_COUNT	171928
+SHUFFLE	COPY_MAP_DATA	13301000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1169432
+SHUFFLE	COMPRESS_BYTE_COUNT	169690
+SHUFFLE	COPY_MAP_DATA	13204000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4965464
+SHUFFLE	COMPRESS_BYTE_COUNT	728219
+SHUFFLE	COPY_MAP_DATA	59207000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4940270
+SHUFFLE	COMPRESS_BYTE_COUNT	724751
+SHUFFLE	COPY_MAP_DATA	68253000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1172288
+SHUFFLE	COMPRESS_BYTE_COUNT	169999
+SHUFFLE	COPY_MAP_DATA	14191000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4962098
+SHUFFLE	COMPRESS_BYTE_COUNT	727937
+SHUFFLE	COPY_MAP_DATA	366109000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4987292
+SHUFFLE	COMPRESS_BYTE_COUNT	731247
+SHUFFLE	COPY_MAP_DATA	127974000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1164638
+SHUFFLE	COMPRESS_BYTE_COUNT	169021
+SHUFFLE	COPY_MAP_DATA	11224000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4923032
+SHUFFLE	COMPRESS_BYTE_COUNT	722196
+SHUFFLE	COPY_MAP_DATA	41132000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4997186
+SHUFFLE	COMPRESS_BYTE_COUNT	733195
+SHUFFLE	COPY_MAP_DATA	196457000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1178000
+SHUFFLE	COMPRESS_BYTE_COUNT	170888
+SHUFFLE	COPY_MAP_DATA	12740000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4987190
+SHUFFLE	COMPRESS_BYTE_COUNT	731764
+SHUFFLE	COPY_MAP_DATA	65062000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1160354
+SHUFFLE	COMPRESS_BYTE_COUNT	168389
+SHUFFLE	COPY_MAP_DATA	12524000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1175042
+SHUFFLE	COMPRESS_BYTE_COUNT	170569
+SHUFFLE	COPY_MAP_DATA	12214000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1162802
+SHUFFLE	COMPRESS_BYTE_COUNT	168828
+SHUFFLE	COPY_MAP_DATA	17868000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1156886
+SHUFFLE	COMPRESS_BYTE_COUNT	167918
+SHUFFLE	COPY_MAP_DATA	123091000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1175858
+SHUFFLE	COMPRESS_BYTE_COUNT	170571
+SHUFFLE	COPY_MAP_DATA	12302000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1159334
+SHUFFLE	COMPRESS_BYTE_COUNT	168282
+SHUFFLE	COPY_MAP_DATA	11708000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4950164
+SHUFFLE	COMPRESS_BYTE_COUNT	725518
+SHUFFLE	COPY_MAP_DATA	107066000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4961078
+SHUFFLE	COMPRESS_BYTE_COUNT	727620
+SHUFFLE	COPY_MAP_DATA	464693000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4931498
+SHUFFLE	COMPRESS_BYTE_COUNT	723384
+SHUFFLE	COPY_MAP_DATA	1119009000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1169432
+SHUFFLE	COMPRESS_BYTE_COUNT	169751
+SHUFFLE	COPY_MAP_DATA	581888000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4946798
+SHUFFLE	COMPRESS_BYTE_COUNT	725355
+SHUFFLE	COPY_MAP_DATA	41998000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1166780
+SHUFFLE	COMPRESS_BYTE_COUNT	169289
+SHUFFLE	COPY_MAP_DATA	11802000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4932824
+SHUFFLE	COMPRESS_BYTE_COUNT	723837
+SHUFFLE	COPY_MAP_DATA	146002000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4962608
+SHUFFLE	COMPRESS_BYTE_COUNT	727794
+SHUFFLE	COPY_MAP_DATA	265964000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4934660
+SHUFFLE	COMPRESS_BYTE_COUNT	723556
+SHUFFLE	COPY_MAP_DATA	79478000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1175960
+SHUFFLE	COMPRESS_BYTE_COUNT	170804
+SHUFFLE	COPY_MAP_DATA	592846000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1173716
+SHUFFLE	COMPRESS_BYTE_COUNT	170341
+SHUFFLE	COPY_MAP_DATA	8184264406
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1157600
+SHUFFLE	COMPRESS_BYTE_COUNT	168015
+SHUFFLE	COPY_MAP_DATA	4181642000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1179326
+SHUFFLE	COMPRESS_BYTE_COUNT	171136
+SHUFFLE	COPY_MAP_DATA	363065000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1156784
+SHUFFLE	COMPRESS_BYTE_COUNT	167804
+SHUFFLE	COPY_MAP_DATA	32903000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1175756
+SHUFFLE	COMPRESS_BYTE_COUNT	170647
+SHUFFLE	COPY_MAP_DATA	12405000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1143932
+SHUFFLE	COMPRESS_BYTE_COUNT	166088
+SHUFFLE	COPY_MAP_DATA	11900000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1171982
+SHUFFLE	COMPRESS_BYTE_COUNT	170039
+SHUFFLE	COPY_MAP_DATA	166743000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1187894
+SHUFFLE	COMPRESS_BYTE_COUNT	172349
+SHUFFLE	COPY_MAP_DATA	1057089000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4911200
+SHUFFLE	COMPRESS_BYTE_COUNT	720413
+SHUFFLE	COPY_MAP_DATA	1198166000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1160864
+SHUFFLE	COMPRESS_BYTE_COUNT	168681
+SHUFFLE	COPY_MAP_DATA	47030000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1172288
+SHUFFLE	COMPRESS_BYTE_COUNT	170072
+SHUFFLE	COPY_MAP_DATA	33177000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1170656
+SHUFFLE	COMPRESS_BYTE_COUNT	169768
+SHUFFLE	COPY_MAP_DATA	11517000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1178204
+SHUFFLE	COMPRESS_BYTE_COUNT	171027
+SHUFFLE	COPY_MAP_DATA	11674000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4947512
+SHUFFLE	COMPRESS_BYTE_COUNT	725406
+SHUFFLE	COPY_MAP_DATA	46156000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4954652
+SHUFFLE	COMPRESS_BYTE_COUNT	726685
+SHUFFLE	COPY_MAP_DATA	69541000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1167596
+SHUFFLE	COMPRESS_BYTE_COUNT	169512
+SHUFFLE	COPY_MAP_DATA	8464170000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1161986
+SHUFFLE	COMPRESS_BYTE_COUNT	168647
+SHUFFLE	COPY_MAP_DATA	45185000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4950674
+SHUFFLE	COMPRESS_BYTE_COUNT	726016
+SHUFFLE	COPY_MAP_DATA	1175951000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1160354
+SHUFFLE	COMPRESS_BYTE_COUNT	168358
+SHUFFLE	COPY_MAP_DATA	83029000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1155356
+SHUFFLE	COMPRESS_BYTE_COUNT	167673
+SHUFFLE	COPY_MAP_DATA	373517000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1149032
+SHUFFLE	COMPRESS_BYTE_COUNT	166735
+SHUFFLE	COPY_MAP_DATA	1514519000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1164638
+SHUFFLE	COMPRESS_BYTE_COUNT	169000
+SHUFFLE	COPY_MAP_DATA	97217000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1151174
+SHUFFLE	COMPRESS_BYTE_COUNT	167194
+SHUFFLE	COPY_MAP_DATA	11492000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1166372
+SHUFFLE	COMPRESS_BYTE_COUNT	169363
+SHUFFLE	COPY_MAP_DATA	34365000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1193810
+SHUFFLE	COMPRESS_BYTE_COUNT	173139
+SHUFFLE	COPY_MAP_DATA	527923000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1157498
+SHUFFLE	COMPRESS_BYTE_COUNT	167943
+SHUFFLE	COPY_MAP_DATA	78986000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1166576
+SHUFFLE	COMPRESS_BYTE_COUNT	169452
+SHUFFLE	COPY_MAP_DATA	28316000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1151174
+SHUFFLE	COMPRESS_BYTE_COUNT	167166
+SHUFFLE	COPY_MAP_DATA	2154349000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1174022
+SHUFFLE	COMPRESS_BYTE_COUNT	170402
+SHUFFLE	COPY_MAP_DATA	901432000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4936190
+SHUFFLE	COMPRESS_BYTE_COUNT	723903
+SHUFFLE	COPY_MAP_DATA	42620000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4910894
+SHUFFLE	COMPRESS_BYTE_COUNT	720538
+SHUFFLE	COPY_MAP_DATA	91690000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1174736
+SHUFFLE	COMPRESS_BYTE_COUNT	170462
+SHUFFLE	COPY_MAP_DATA	43688000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1176674
+SHUFFLE	COMPRESS_BYTE_COUNT	170830
+SHUFFLE	COPY_MAP_DATA	13037000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1154234
+SHUFFLE	COMPRESS_BYTE_COUNT	167526
+SHUFFLE	COPY_MAP_DATA	11348000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1177592
+SHUFFLE	COMPRESS_BYTE_COUNT	170961
+SHUFFLE	COPY_MAP_DATA	118262000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4941800
+SHUFFLE	COMPRESS_BYTE_COUNT	724179
+SHUFFLE	COPY_MAP_DATA	152229000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4995452
+SHUFFLE	COMPRESS_BYTE_COUNT	732284
+SHUFFLE	COPY_MAP_DATA	51191000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4939658
+SHUFFLE	COMPRESS_BYTE_COUNT	724737
+SHUFFLE	COPY_MAP_DATA	50515000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1176470
+SHUFFLE	COMPRESS_BYTE_COUNT	170668
+SHUFFLE	COPY_MAP_DATA	12303000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1175144
+SHUFFLE	COMPRESS_BYTE_COUNT	170532
+SHUFFLE	COPY_MAP_DATA	13083000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1175246
+SHUFFLE	COMPRESS_BYTE_COUNT	170551
+SHUFFLE	COPY_MAP_DATA	13488000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1146788
+SHUFFLE	COMPRESS_BYTE_COUNT	166588
+SHUFFLE	COPY_MAP_DATA	19800000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1155152
+SHUFFLE	COMPRESS_BYTE_COUNT	167558
+SHUFFLE	COPY_MAP_DATA	14739000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1149236
+SHUFFLE	COMPRESS_BYTE_COUNT	166822
+SHUFFLE	COPY_MAP_DATA	14295000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1185344
+SHUFFLE	COMPRESS_BYTE_COUNT	172000
+SHUFFLE	COPY_MAP_DATA	12793000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1169840
+SHUFFLE	COMPRESS_BYTE_COUNT	169777
+SHUFFLE	COPY_MAP_DATA	21518000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1187894
+SHUFFLE	COMPRESS_BYTE_COUNT	172394
+SHUFFLE	COPY_MAP_DATA	12352000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1179428
+SHUFFLE	COMPRESS_BYTE_COUNT	171114
+SHUFFLE	COPY_MAP_DATA	278886000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1160252
+SHUFFLE	COMPRESS_BYTE_COUNT	168414
+SHUFFLE	COPY_MAP_DATA	201320000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1157192
+SHUFFLE	COMPRESS_BYTE_COUNT	167966
+SHUFFLE	COPY_MAP_DATA	31227000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4992392
+SHUFFLE	COMPRESS_BYTE_COUNT	731718
+SHUFFLE	COPY_MAP_DATA	49474000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1162496
+SHUFFLE	COMPRESS_BYTE_COUNT	168911
+SHUFFLE	COPY_MAP_DATA	11918000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1165862
+SHUFFLE	COMPRESS_BYTE_COUNT	169195
+SHUFFLE	COPY_MAP_DATA	1378545000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1166678
+SHUFFLE	COMPRESS_BYTE_COUNT	169397
+SHUFFLE	COPY_MAP_DATA	47001000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1168310
+SHUFFLE	COMPRESS_BYTE_COUNT	169451
+SHUFFLE	COPY_MAP_DATA	12388000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1166780
+SHUFFLE	COMPRESS_BYTE_COUNT	169308
+SHUFFLE	COPY_MAP_DATA	11952000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1155254
+SHUFFLE	COMPRESS_BYTE_COUNT	167866
+SHUFFLE	COPY_MAP_DATA	12419000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1144850
+SHUFFLE	COMPRESS_BYTE_COUNT	166179
+SHUFFLE	COPY_MAP_DATA	11973000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1160354
+SHUFFLE	COMPRESS_BYTE_COUNT	168372
+SHUFFLE	COPY_MAP_DATA	172865000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1155356
+SHUFFLE	COMPRESS_BYTE_COUNT	167709
+SHUFFLE	COPY_MAP_DATA	70078000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1168412
+SHUFFLE	COMPRESS_BYTE_COUNT	169648
+SHUFFLE	COPY_MAP_DATA	13479000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1187078
+SHUFFLE	COMPRESS_BYTE_COUNT	172252
+SHUFFLE	COPY_MAP_DATA	10918000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1185038
+SHUFFLE	COMPRESS_BYTE_COUNT	172065
+SHUFFLE	COPY_MAP_DATA	12652000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1143116
+SHUFFLE	COMPRESS_BYTE_COUNT	165899
+SHUFFLE	COPY_MAP_DATA	12042000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1165556
+SHUFFLE	COMPRESS_BYTE_COUNT	169089
+SHUFFLE	COPY_MAP_DATA	11788000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1157090
+SHUFFLE	COMPRESS_BYTE_COUNT	167889
+SHUFFLE	COPY_MAP_DATA	14683000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1151786
+SHUFFLE	COMPRESS_BYTE_COUNT	167194
+SHUFFLE	COPY_MAP_DATA	17787000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1147910
+SHUFFLE	COMPRESS_BYTE_COUNT	166633
+SHUFFLE	COPY_MAP_DATA	35081000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1159130
+SHUFFLE	COMPRESS_BYTE_COUNT	168273
+SHUFFLE	COPY_MAP_DATA	12044000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1165148
+SHUFFLE	COMPRESS_BYTE_COUNT	169287
+SHUFFLE	COPY_MAP_DATA	611172000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1160864
+SHUFFLE	COMPRESS_BYTE_COUNT	168415
+SHUFFLE	COPY_MAP_DATA	22169000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1175552
+SHUFFLE	COMPRESS_BYTE_COUNT	170656
+SHUFFLE	COPY_MAP_DATA	22206000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1173920
+SHUFFLE	COMPRESS_BYTE_COUNT	170393
+SHUFFLE	COPY_MAP_DATA	11494000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1176062
+SHUFFLE	COMPRESS_BYTE_COUNT	170601
+SHUFFLE	COPY_MAP_DATA	20772000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1171574
+SHUFFLE	COMPRESS_BYTE_COUNT	170074
+SHUFFLE	COPY_MAP_DATA	12328000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1174124
+SHUFFLE	COMPRESS_BYTE_COUNT	170349
+SHUFFLE	COPY_MAP_DATA	22901000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1164638
+SHUFFLE	COMPRESS_BYTE_COUNT	169062
+SHUFFLE	COPY_MAP_DATA	11863000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1155050
+SHUFFLE	COMPRESS_BYTE_COUNT	167658
+SHUFFLE	COPY_MAP_DATA	12424000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1153826
+SHUFFLE	COMPRESS_BYTE_COUNT	167518
+SHUFFLE	COPY_MAP_DATA	11761000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1166576
+SHUFFLE	COMPRESS_BYTE_COUNT	169276
+SHUFFLE	COPY_MAP_DATA	12319000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1150562
+SHUFFLE	COMPRESS_BYTE_COUNT	167122
+SHUFFLE	COPY_MAP_DATA	12193000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1158824
+SHUFFLE	COMPRESS_BYTE_COUNT	168155
+SHUFFLE	COPY_MAP_DATA	12764000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1153724
+SHUFFLE	COMPRESS_BYTE_COUNT	167545
+SHUFFLE	COPY_MAP_DATA	31656000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1175144
+SHUFFLE	COMPRESS_BYTE_COUNT	170539
+SHUFFLE	COPY_MAP_DATA	17500000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1178714
+SHUFFLE	COMPRESS_BYTE_COUNT	171171
+SHUFFLE	COPY_MAP_DATA	11508000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1167494
+SHUFFLE	COMPRESS_BYTE_COUNT	169384
+SHUFFLE	COPY_MAP_DATA	13872000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	269606473000
+MERGE	READ_WRITE	258710134000
+MERGE	READ_WRITE_COUNT	7
+MERGE	COMBINE	0
+MERGE	WRITE	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	14526991000
+SORT	READ_WRITE	14361273000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	164752408
+REDUCE	SETUP	345000
+REDUCE	SETUP_MEM	164752408
+REDUCE	CLEANUP	46000
+REDUCE	CLEANUP_MEM	154907400
+REDUCE	TOTAL_RUN	161937783000
+REDUCE	READ	21748857000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	84440418000
+REDUCE	WRITE	33394393000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	108727360
+REDUCE	VALUE_BYTE_COUNT	956800768
+REDUCE	REDUCE_MEM	154907400
+REDUCE	WRITE	4001000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	714443592406
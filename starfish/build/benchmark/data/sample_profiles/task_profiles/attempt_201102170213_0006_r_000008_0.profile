@@ -0,0 +1,1229 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4994432
+SHUFFLE	COMPRESS_BYTE_COUNT	732580
+SHUFFLE	COPY_MAP_DATA	295144000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4983314
+SHUFFLE	COMPRESS_BYTE_COUNT	731319
+SHUFFLE	COPY_MAP_DATA	59625000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5025134
+SHUFFLE	COMPRESS_BYTE_COUNT	737116
+SHUFFLE	COPY_MAP_DATA	97700000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5005754
+SHUFFLE	COMPRESS_BYTE_COUNT	734289
+SHUFFLE	COPY_MAP_DATA	141158000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5001062
+SHUFFLE	COMPRESS_BYTE_COUNT	733380
+SHUFFLE	COPY_MAP_DATA	111397000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4997288
+SHUFFLE	COMPRESS_BYTE_COUNT	732923
+SHUFFLE	COPY_MAP_DATA	60603000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5009834
+SHUFFLE	COMPRESS_BYTE_COUNT	735282
+SHUFFLE	COPY_MAP_DATA	66373000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4971074
+SHUFFLE	COMPRESS_BYTE_COUNT	729094
+SHUFFLE	COPY_MAP_DATA	47767000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4970564
+SHUFFLE	COMPRESS_BYTE_COUNT	729419
+SHUFFLE	COPY_MAP_DATA	92369000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5028602
+SHUFFLE	COMPRESS_BYTE_COUNT	737479
+SHUFFLE	COPY_MAP_DATA	187857000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5040944
+SHUFFLE	COMPRESS_BYTE_COUNT	739326
+SHUFFLE	COPY_MAP_DATA	63839000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5001368
+SHUFFLE	COMPRESS_BYTE_COUNT	733187
+SHUFFLE	COPY_MAP_DATA	50205000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4994330
+SHUFFLE	COMPRESS_BYTE_COUNT	731974
+SHUFFLE	COPY_MAP_DATA	49553000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5051654
+SHUFFLE	COMPRESS_BYTE_COUNT	741261
+SHUFFLE	COPY_MAP_DATA	113947000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5002694
+SHUFFLE	COMPRESS_BYTE_COUNT	733929
+SHUFFLE	COPY_MAP_DATA	47769000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4957712
+SHUFFLE	COMPRESS_BYTE_COUNT	727291
+SHUFFLE	COPY_MAP_DATA	48378000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5025950
+SHUFFLE	COMPRESS_BYTE_COUNT	737052
+SHUFFLE	COPY_MAP_DATA	45439000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5008712
+SHUFFLE	COMPRESS_BYTE_COUNT	734444
+SHUFFLE	COPY_MAP_DATA	58310000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5000960
+SHUFFLE	COMPRESS_BYTE_COUNT	733597
+SHUFFLE	COPY_MAP_DATA	152135000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4982498
+SHUFFLE	COMPRESS_BYTE_COUNT	730860
+SHUFFLE	COPY_MAP_DATA	60961000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4994024
+SHUFFLE	COMPRESS_BYTE_COUNT	732728
+SHUFFLE	COPY_MAP_DATA	42843000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5029622
+SHUFFLE	COMPRESS_BYTE_COUNT	738060
+SHUFFLE	COPY_MAP_DATA	227610000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4995248
+SHUFFLE	COMPRESS_BYTE_COUNT	732758
+SHUFFLE	COPY_MAP_DATA	44776000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4967810
+SHUFFLE	COMPRESS_BYTE_COUNT	728677
+SHUFFLE	COPY_MAP_DATA	56078000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5033804
+SHUFFLE	COMPRESS_BYTE_COUNT	738386
+SHUFFLE	COPY_MAP_DATA	92114000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5025542
+SHUFFLE	COMPRESS_BYTE_COUNT	737373
+SHUFFLE	COPY_MAP_DATA	51250000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5008202
+SHUFFLE	COMPRESS_BYTE_COUNT	734626
+SHUFFLE	COPY_MAP_DATA	164267000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4994228
+SHUFFLE	COMPRESS_BYTE_COUNT	732364
+SHUFFLE	COPY_MAP_DATA	57153000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5011976
+SHUFFLE	COMPRESS_BYTE_COUNT	735685
+SHUFFLE	COPY_MAP_DATA	374694000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5040638
+SHUFFLE	COMPRESS_BYTE_COUNT	738899
+SHUFFLE	COPY_MAP_DATA	2198029000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4976888
+SHUFFLE	COMPRESS_BYTE_COUNT	730240
+SHUFFLE	COPY_MAP_DATA	228796000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4993820
+SHUFFLE	COMPRESS_BYTE_COUNT	732273
+SHUFFLE	COPY_MAP_DATA	65799000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4960670
+SHUFFLE	COMPRESS_BYTE_COUNT	728093
+SHUFFLE	COPY_MAP_DATA	42438000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4978724
+SHUFFLE	COMPRESS_BYTE_COUNT	729862
+SHUFFLE	COPY_MAP_DATA	41679000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5008202
+SHUFFLE	COMPRESS_BYTE_COUNT	734366
+SHUFFLE	COPY_MAP_DATA	45251000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5027888
+SHUFFLE	COMPRESS_BYTE_COUNT	737547
+SHUFFLE	COPY_MAP_DATA	65449000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4988108
+SHUFFLE	COMPRESS_BYTE_COUNT	731688
+SHUFFLE	COPY_MAP_DATA	537484000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4990760
+SHUFFLE	COMPRESS_BYTE_COUNT	732209
+SHUFFLE	COPY_MAP_DATA	45670000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5040740
+SHUFFLE	COMPRESS_BYTE_COUNT	739097
+SHUFFLE	COPY_MAP_DATA	43875000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5002490
+SHUFFLE	COMPRESS_BYTE_COUNT	733935
+SHUFFLE	COPY_MAP_DATA	266071000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5009528
+SHUFFLE	COMPRESS_BYTE_COUNT	734684
+SHUFFLE	COPY_MAP_DATA	43374000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4996676
+SHUFFLE	COMPRESS_BYTE_COUNT	733186
+SHUFFLE	COPY_MAP_DATA	118788000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4989536
+SHUFFLE	COMPRESS_BYTE_COUNT	731768
+SHUFFLE	COPY_MAP_DATA	52789000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4959854
+SHUFFLE	COMPRESS_BYTE_COUNT	727813
+SHUFFLE	COPY_MAP_DATA	268499000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4971686
+SHUFFLE	COMPRESS_BYTE_COUNT	729711
+SHUFFLE	COPY_MAP_DATA	51448000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5005652
+SHUFFLE	COMPRESS_BYTE_COUNT	734283
+SHUFFLE	COPY_MAP_DATA	47685000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4984334
+SHUFFLE	COMPRESS_BYTE_COUNT	731322
+SHUFFLE	COPY_MAP_DATA	45245000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4971176
+SHUFFLE	COMPRESS_BYTE_COUNT	728957
+SHUFFLE	COPY_MAP_DATA	563249000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5008610
+SHUFFLE	COMPRESS_BYTE_COUNT	734908
+SHUFFLE	COPY_MAP_DATA	1227153000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4986068
+SHUFFLE	COMPRESS_BYTE_COUNT	731275
+SHUFFLE	COPY_MAP_DATA	326696000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5021870
+SHUFFLE	COMPRESS_BYTE_COUNT	736607
+SHUFFLE	COPY_MAP_DATA	2044534000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4993004
+SHUFFLE	COMPRESS_BYTE_COUNT	732046
+SHUFFLE	COPY_MAP_DATA	336758000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4980764
+SHUFFLE	COMPRESS_BYTE_COUNT	730475
+SHUFFLE	COPY_MAP_DATA	46919000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5018096
+SHUFFLE	COMPRESS_BYTE_COUNT	736139
+SHUFFLE	COPY_MAP_DATA	71189000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5026256
+SHUFFLE	COMPRESS_BYTE_COUNT	732722
+SHUFFLE	COPY_MAP_DATA	965899000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5014832
+SHUFFLE	COMPRESS_BYTE_COUNT	735575
+SHUFFLE	COPY_MAP_DATA	115173000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5031764
+SHUFFLE	COMPRESS_BYTE_COUNT	738123
+SHUFFLE	COPY_MAP_DATA	279703000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5013812
+SHUFFLE	COMPRESS_BYTE_COUNT	735108
+SHUFFLE	COPY_MAP_DATA	225244000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5024420
+SHUFFLE	COMPRESS_BYTE_COUNT	736955
+SHUFFLE	COPY_MAP_DATA	1444832000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4988720
+SHUFFLE	COMPRESS_BYTE_COUNT	732113
+SHUFFLE	COPY_MAP_DATA	60300000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5019014
+SHUFFLE	COMPRESS_BYTE_COUNT	736294
+SHUFFLE	COPY_MAP_DATA	596049000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4977092
+SHUFFLE	COMPRESS_BYTE_COUNT	729808
+SHUFFLE	COPY_MAP_DATA	43208000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5012384
+SHUFFLE	COMPRESS_BYTE_COUNT	735364
+SHUFFLE	COPY_MAP_DATA	273454000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4985252
+SHUFFLE	COMPRESS_BYTE_COUNT	730961
+SHUFFLE	COPY_MAP_DATA	41628000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5036558
+SHUFFLE	COMPRESS_BYTE_COUNT	738775
+SHUFFLE	COPY_MAP_DATA	56071000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4973012
+SHUFFLE	COMPRESS_BYTE_COUNT	729230
+SHUFFLE	COPY_MAP_DATA	43866000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4976582
+SHUFFLE	COMPRESS_BYTE_COUNT	730129
+SHUFFLE	COPY_MAP_DATA	45282000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5002796
+SHUFFLE	COMPRESS_BYTE_COUNT	734199
+SHUFFLE	COPY_MAP_DATA	171153000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5001776
+SHUFFLE	COMPRESS_BYTE_COUNT	733489
+SHUFFLE	COPY_MAP_DATA	41480000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5005244
+SHUFFLE	COMPRESS_BYTE_COUNT	734378
+SHUFFLE	COPY_MAP_DATA	53435000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4984028
+SHUFFLE	COMPRESS_BYTE_COUNT	731470
+SHUFFLE	COPY_MAP_DATA	42974000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4982396
+SHUFFLE	COMPRESS_BYTE_COUNT	730593
+SHUFFLE	COPY_MAP_DATA	131446000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5034620
+SHUFFLE	COMPRESS_BYTE_COUNT	738596
+SHUFFLE	COPY_MAP_DATA	3669846000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4991576
+SHUFFLE	COMPRESS_BYTE_COUNT	732345
+SHUFFLE	COPY_MAP_DATA	3497292000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5062670
+SHUFFLE	COMPRESS_BYTE_COUNT	742527
+SHUFFLE	COPY_MAP_DATA	396708000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5015648
+SHUFFLE	COMPRESS_BYTE_COUNT	736018
+SHUFFLE	COPY_MAP_DATA	123471000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4996268
+SHUFFLE	COMPRESS_BYTE_COUNT	732824
+SHUFFLE	COPY_MAP_DATA	44478000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5012894
+SHUFFLE	COMPRESS_BYTE_COUNT	735503
+SHUFFLE	COPY_MAP_DATA	76374000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5041250
+SHUFFLE	COMPRESS_BYTE_COUNT	739094
+SHUFFLE	COPY_MAP_DATA	8431661000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5056346
+SHUFFLE	COMPRESS_BYTE_COUNT	741764
+SHUFFLE	COPY_MAP_DATA	148219000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5029010
+SHUFFLE	COMPRESS_BYTE_COUNT	737631
+SHUFFLE	COPY_MAP_DATA	60291000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4995860
+SHUFFLE	COMPRESS_BYTE_COUNT	733143
+SHUFFLE	COPY_MAP_DATA	180719000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5033192
+SHUFFLE	COMPRESS_BYTE_COUNT	738188
+SHUFFLE	COPY_MAP_DATA	114856000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4996166
+SHUFFLE	COMPRESS_BYTE_COUNT	732541
+SHUFFLE	COPY_MAP_DATA	7273710000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5013200
+SHUFFLE	COMPRESS_BYTE_COUNT	735055
+SHUFFLE	COPY_MAP_DATA	139326000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5062466
+SHUFFLE	COMPRESS_BYTE_COUNT	742687
+SHUFFLE	COPY_MAP_DATA	12740712000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4978010
+SHUFFLE	COMPRESS_BYTE_COUNT	729797
+SHUFFLE	COPY_MAP_DATA	45283000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5000960
+SHUFFLE	COMPRESS_BYTE_COUNT	733539
+SHUFFLE	COPY_MAP_DATA	2655437000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4962812
+SHUFFLE	COMPRESS_BYTE_COUNT	727674
+SHUFFLE	COPY_MAP_DATA	53108000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4978010
+SHUFFLE	COMPRESS_BYTE_COUNT	730380
+SHUFFLE	COPY_MAP_DATA	46331000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4973726
+SHUFFLE	COMPRESS_BYTE_COUNT	729735
+SHUFFLE	COPY_MAP_DATA	46787000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5014628
+SHUFFLE	COMPRESS_BYTE_COUNT	735357
+SHUFFLE	COPY_MAP_DATA	230050000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5007998
+SHUFFLE	COMPRESS_BYTE_COUNT	734580
+SHUFFLE	COPY_MAP_DATA	477149000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5015648
+SHUFFLE	COMPRESS_BYTE_COUNT	736025
+SHUFFLE	COPY_MAP_DATA	298275000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5008610
+SHUFFLE	COMPRESS_BYTE_COUNT	734798
+SHUFFLE	COPY_MAP_DATA	134604000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4990760
+SHUFFLE	COMPRESS_BYTE_COUNT	732074
+SHUFFLE	COPY_MAP_DATA	44504000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4975664
+SHUFFLE	COMPRESS_BYTE_COUNT	729568
+SHUFFLE	COPY_MAP_DATA	52553000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5010548
+SHUFFLE	COMPRESS_BYTE_COUNT	734719
+SHUFFLE	COPY_MAP_DATA	1138798000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5026766
+SHUFFLE	COMPRESS_BYTE_COUNT	737613
+SHUFFLE	COPY_MAP_DATA	90797000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4998512
+SHUFFLE	COMPRESS_BYTE_COUNT	733068
+SHUFFLE	COPY_MAP_DATA	44169000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5001368
+SHUFFLE	COMPRESS_BYTE_COUNT	733604
+SHUFFLE	COPY_MAP_DATA	1936994000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4992800
+SHUFFLE	COMPRESS_BYTE_COUNT	732318
+SHUFFLE	COPY_MAP_DATA	47061000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5010242
+SHUFFLE	COMPRESS_BYTE_COUNT	735147
+SHUFFLE	COPY_MAP_DATA	66409000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4996982
+SHUFFLE	COMPRESS_BYTE_COUNT	732922
+SHUFFLE	COPY_MAP_DATA	1265174000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5021462
+SHUFFLE	COMPRESS_BYTE_COUNT	736398
+SHUFFLE	COPY_MAP_DATA	45429000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5040740
+SHUFFLE	COMPRESS_BYTE_COUNT	739629
+SHUFFLE	COPY_MAP_DATA	2478937000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4990046
+SHUFFLE	COMPRESS_BYTE_COUNT	732157
+SHUFFLE	COPY_MAP_DATA	984252000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4980560
+SHUFFLE	COMPRESS_BYTE_COUNT	730318
+SHUFFLE	COPY_MAP_DATA	68074000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4989230
+SHUFFLE	COMPRESS_BYTE_COUNT	731835
+SHUFFLE	COPY_MAP_DATA	140146000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5007692
+SHUFFLE	COMPRESS_BYTE_COUNT	734437
+SHUFFLE	COPY_MAP_DATA	505713000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5014220
+SHUFFLE	COMPRESS_BYTE_COUNT	735481
+SHUFFLE	COPY_MAP_DATA	47344000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4982192
+SHUFFLE	COMPRESS_BYTE_COUNT	730659
+SHUFFLE	COPY_MAP_DATA	284388000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4993208
+SHUFFLE	COMPRESS_BYTE_COUNT	732645
+SHUFFLE	COPY_MAP_DATA	181030000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5008814
+SHUFFLE	COMPRESS_BYTE_COUNT	735006
+SHUFFLE	COPY_MAP_DATA	115972000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5015954
+SHUFFLE	COMPRESS_BYTE_COUNT	736025
+SHUFFLE	COPY_MAP_DATA	43772000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5024930
+SHUFFLE	COMPRESS_BYTE_COUNT	736985
+SHUFFLE	COPY_MAP_DATA	1625542000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5002592
+SHUFFLE	COMPRESS_BYTE_COUNT	734051
+SHUFFLE	COPY_MAP_DATA	1094671000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5043188
+SHUFFLE	COMPRESS_BYTE_COUNT	739619
+SHUFFLE	COPY_MAP_DATA	953265000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5039414
+SHUFFLE	COMPRESS_BYTE_COUNT	739133
+SHUFFLE	COPY_MAP_DATA	976450000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5010038
+SHUFFLE	COMPRESS_BYTE_COUNT	735162
+SHUFFLE	COPY_MAP_DATA	168931000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5017994
+SHUFFLE	COMPRESS_BYTE_COUNT	735723
+SHUFFLE	COPY_MAP_DATA	540023000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5033396
+SHUFFLE	COMPRESS_BYTE_COUNT	738388
+SHUFFLE	COPY_MAP_DATA	454234000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5038394
+SHUFFLE	COMPRESS_BYTE_COUNT	738926
+SHUFFLE	COPY_MAP_DATA	65006000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5021768
+SHUFFLE	COMPRESS_BYTE_COUNT	736245
+SHUFFLE	COPY_MAP_DATA	45420000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5008814
+SHUFFLE	COMPRESS_BYTE_COUNT	734617
+SHUFFLE	COPY_MAP_DATA	47712000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5035946
+SHUFFLE	COMPRESS_BYTE_COUNT	738515
+SHUFFLE	COPY_MAP_DATA	44207000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4999838
+SHUFFLE	COMPRESS_BYTE_COUNT	733636
+SHUFFLE	COPY_MAP_DATA	833490000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5006570
+SHUFFLE	COMPRESS_BYTE_COUNT	734096
+SHUFFLE	COPY_MAP_DATA	197116000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5063180
+SHUFFLE	COMPRESS_BYTE_COUNT	742837
+SHUFFLE	COPY_MAP_DATA	84319000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4995452
+SHUFFLE	COMPRESS_BYTE_COUNT	733352
+SHUFFLE	COPY_MAP_DATA	57795000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5010446
+SHUFFLE	COMPRESS_BYTE_COUNT	735240
+SHUFFLE	COPY_MAP_DATA	208071000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5008406
+SHUFFLE	COMPRESS_BYTE_COUNT	734950
+SHUFFLE	COPY_MAP_DATA	46992000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5003204
+SHUFFLE	COMPRESS_BYTE_COUNT	734214
+SHUFFLE	COPY_MAP_DATA	86636000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4995350
+SHUFFLE	COMPRESS_BYTE_COUNT	732192
+SHUFFLE	COPY_MAP_DATA	224683000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5021870
+SHUFFLE	COMPRESS_BYTE_COUNT	736591
+SHUFFLE	COPY_MAP_DATA	208059000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5007590
+SHUFFLE	COMPRESS_BYTE_COUNT	734297
+SHUFFLE	COPY_MAP_DATA	2149240000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4974746
+SHUFFLE	COMPRESS_BYTE_COUNT	722893
+SHUFFLE	COPY_MAP_DATA	455459000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5060324
+SHUFFLE	COMPRESS_BYTE_COUNT	742210
+SHUFFLE	COPY_MAP_DATA	49622000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5029418
+SHUFFLE	COMPRESS_BYTE_COUNT	737732
+SHUFFLE	COPY_MAP_DATA	45450000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5037374
+SHUFFLE	COMPRESS_BYTE_COUNT	738313
+SHUFFLE	COPY_MAP_DATA	44836000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4994228
+SHUFFLE	COMPRESS_BYTE_COUNT	732743
+SHUFFLE	COPY_MAP_DATA	330221000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4973012
+SHUFFLE	COMPRESS_BYTE_COUNT	729643
+SHUFFLE	COPY_MAP_DATA	989730000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5007794
+SHUFFLE	COMPRESS_BYTE_COUNT	734100
+SHUFFLE	COPY_MAP_DATA	1215346000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5013098
+SHUFFLE	COMPRESS_BYTE_COUNT	735134
+SHUFFLE	COPY_MAP_DATA	149281000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4994738
+SHUFFLE	COMPRESS_BYTE_COUNT	732212
+SHUFFLE	COPY_MAP_DATA	1689933000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1161782
+SHUFFLE	COMPRESS_BYTE_COUNT	168472
+SHUFFLE	COPY_MAP_DATA	246229000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5007896
+SHUFFLE	COMPRESS_BYTE_COUNT	734381
+SHUFFLE	COPY_MAP_DATA	4661085000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5004734
+SHUFFLE	COMPRESS_BYTE_COUNT	734366
+SHUFFLE	COPY_MAP_DATA	234538000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5019218
+SHUFFLE	COMPRESS_BYTE_COUNT	735964
+SHUFFLE	COPY_MAP_DATA	263875000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1174940
+SHUFFLE	COMPRESS_BYTE_COUNT	170475
+SHUFFLE	COPY_MAP_DATA	521259000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5040026
+SHUFFLE	COMPRESS_BYTE_COUNT	739711
+SHUFFLE	COPY_MAP_DATA	8529942000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1187588
+SHUFFLE	COMPRESS_BYTE_COUNT	172273
+SHUFFLE	COPY_MAP_DATA	12374000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4985456
+SHUFFLE	COMPRESS_BYTE_COUNT	731526
+SHUFFLE	COPY_MAP_DATA	203048000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5036048
+SHUFFLE	COMPRESS_BYTE_COUNT	738665
+SHUFFLE	COPY_MAP_DATA	48366000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5052470
+SHUFFLE	COMPRESS_BYTE_COUNT	740729
+SHUFFLE	COPY_MAP_DATA	85727000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5007794
+SHUFFLE	COMPRESS_BYTE_COUNT	734765
+SHUFFLE	COPY_MAP_DATA	43632000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4965158
+SHUFFLE	COMPRESS_BYTE_COUNT	728426
+SHUFFLE	COPY_MAP_DATA	43652000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1169534
+SHUFFLE	COMPRESS_BYTE_COUNT	169614
+SHUFFLE	COPY_MAP_DATA	47931000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5010548
+SHUFFLE	COMPRESS_BYTE_COUNT	735292
+SHUFFLE	COPY_MAP_DATA	141513000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4980356
+SHUFFLE	COMPRESS_BYTE_COUNT	730343
+SHUFFLE	COPY_MAP_DATA	88612000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4997084
+SHUFFLE	COMPRESS_BYTE_COUNT	733081
+SHUFFLE	COPY_MAP_DATA	52343000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4994840
+SHUFFLE	COMPRESS_BYTE_COUNT	732390
+SHUFFLE	COPY_MAP_DATA	593660000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1189526
+SHUFFLE	COMPRESS_BYTE_COUNT	172552
+SHUFFLE	COPY_MAP_DATA	116446000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5034620
+SHUFFLE	COMPRESS_BYTE_COUNT	738123
+SHUFFLE	COPY_MAP_DATA	55335000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5018606
+SHUFFLE	COMPRESS_BYTE_COUNT	735824
+SHUFFLE	COPY_MAP_DATA	86136000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4979642
+SHUFFLE	COMPRESS_BYTE_COUNT	730921
+SHUFFLE	COPY_MAP_DATA	142958000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5046554
+SHUFFLE	COMPRESS_BYTE_COUNT	739911
+SHUFFLE	COPY_MAP_DATA	5627211000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5016566
+SHUFFLE	COMPRESS_BYTE_COUNT	736002
+SHUFFLE	COPY_MAP_DATA	55040000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5018708
+SHUFFLE	COMPRESS_BYTE_COUNT	736441
+SHUFFLE	COPY_MAP_DATA	140190000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5024114
+SHUFFLE	COMPRESS_BYTE_COUNT	736900
+SHUFFLE	COPY_MAP_DATA	60364000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1162190
+SHUFFLE	COMPRESS_BYTE_COUNT	168668
+SHUFFLE	COPY_MAP_DATA	13037000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4985048
+SHUFFLE	COMPRESS_BYTE_COUNT	731104
+SHUFFLE	COPY_MAP_DATA	5606187000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5010140
+SHUFFLE	COMPRESS_BYTE_COUNT	734490
+SHUFFLE	COPY_MAP_DATA	60984000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1169228
+SHUFFLE	COMPRESS_BYTE_COUNT	169606
+SHUFFLE	COPY_MAP_DATA	265920000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1190036
+SHUFFLE	COMPRESS_BYTE_COUNT	172643
+SHUFFLE	COPY_MAP_DATA	12577000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5019218
+SHUFFLE	COMPRESS_BYTE_COUNT	736007
+SHUFFLE	COPY_MAP_DATA	4357323000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5007692
+SHUFFLE	COMPRESS_BYTE_COUNT	734667
+SHUFFLE	COPY_MAP_DATA	46835000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5038292
+SHUFFLE	COMPRESS_BYTE_COUNT	739127
+SHUFFLE	COPY_MAP_DATA	72421000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5020646
+SHUFFLE	COMPRESS_BYTE_COUNT	736528
+SHUFFLE	COPY_MAP_DATA	68850000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1168514
+SHUFFLE	COMPRESS_BYTE_COUNT	169667
+SHUFFLE	COPY_MAP_DATA	3920379000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4993412
+SHUFFLE	COMPRESS_BYTE_COUNT	732684
+SHUFFLE	COPY_MAP_DATA	20289130000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5003918
+SHUFFLE	COMPRESS_BYTE_COUNT	734150
+SHUFFLE	COPY_MAP_DATA	56680000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1183202
+SHUFFLE	COMPRESS_BYTE_COUNT	171637
+SHUFFLE	COPY_MAP_DATA	56570000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4994636
+SHUFFLE	COMPRESS_BYTE_COUNT	732648
+SHUFFLE	COPY_MAP_DATA	60989000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4979030
+SHUFFLE	COMPRESS_BYTE_COUNT	730491
+SHUFFLE	COPY_MAP_DATA	60242000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5020442
+SHUFFLE	COMPRESS_BYTE_COUNT	736208
+SHUFFLE	COPY_MAP_DATA	45951000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4965056
+SHUFFLE	COMPRESS_BYTE_COUNT	728393
+SHUFFLE	COPY_MAP_DATA	1624120000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1183304
+SHUFFLE	COMPRESS_BYTE_COUNT	171577
+SHUFFLE	COPY_MAP_DATA	12503000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5024420
+SHUFFLE	COMPRESS_BYTE_COUNT	736892
+SHUFFLE	COPY_MAP_DATA	509437000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1174838
+SHUFFLE	COMPRESS_BYTE_COUNT	170500
+SHUFFLE	COPY_MAP_DATA	203231000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5011160
+SHUFFLE	COMPRESS_BYTE_COUNT	734949
+SHUFFLE	COPY_MAP_DATA	185106000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4987802
+SHUFFLE	COMPRESS_BYTE_COUNT	731786
+SHUFFLE	COPY_MAP_DATA	133360000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1186772
+SHUFFLE	COMPRESS_BYTE_COUNT	172093
+SHUFFLE	COPY_MAP_DATA	13713000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4982906
+SHUFFLE	COMPRESS_BYTE_COUNT	730899
+SHUFFLE	COPY_MAP_DATA	84053000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1155968
+SHUFFLE	COMPRESS_BYTE_COUNT	167855
+SHUFFLE	COPY_MAP_DATA	13234000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5007794
+SHUFFLE	COMPRESS_BYTE_COUNT	734616
+SHUFFLE	COPY_MAP_DATA	45440000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1184018
+SHUFFLE	COMPRESS_BYTE_COUNT	171810
+SHUFFLE	COPY_MAP_DATA	12975000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1174736
+SHUFFLE	COMPRESS_BYTE_COUNT	170487
+SHUFFLE	COPY_MAP_DATA	23251000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4955468
+SHUFFLE	COMPRESS_BYTE_COUNT	727395
+SHUFFLE	COPY_MAP_DATA	47138000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1156682
+SHUFFLE	COMPRESS_BYTE_COUNT	167943
+SHUFFLE	COPY_MAP_DATA	24306000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1177388
+SHUFFLE	COMPRESS_BYTE_COUNT	170953
+SHUFFLE	COPY_MAP_DATA	13896000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1183610
+SHUFFLE	COMPRESS_BYTE_COUNT	171816
+SHUFFLE	COPY_MAP_DATA	13029000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1176674
+SHUFFLE	COMPRESS_BYTE_COUNT	170759
+SHUFFLE	COPY_MAP_DATA	12239000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1182284
+SHUFFLE	COMPRESS_BYTE_COUNT	171517
+SHUFFLE	COPY_MAP_DATA	11540000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5011466
+SHUFFLE	COMPRESS_BYTE_COUNT	734981
+SHUFFLE	COPY_MAP_DATA	45150000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1172696
+SHUFFLE	COMPRESS_BYTE_COUNT	170086
+SHUFFLE	COPY_MAP_DATA	1154422000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1166066
+SHUFFLE	COMPRESS_BYTE_COUNT	169095
+SHUFFLE	COPY_MAP_DATA	12910000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1187996
+SHUFFLE	COMPRESS_BYTE_COUNT	172409
+SHUFFLE	COPY_MAP_DATA	12611000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4983008
+SHUFFLE	COMPRESS_BYTE_COUNT	730527
+SHUFFLE	COPY_MAP_DATA	9375470000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5026154
+SHUFFLE	COMPRESS_BYTE_COUNT	737367
+SHUFFLE	COPY_MAP_DATA	118475000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5014730
+SHUFFLE	COMPRESS_BYTE_COUNT	736078
+SHUFFLE	COPY_MAP_DATA	45825000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5021666
+SHUFFLE	COMPRESS_BYTE_COUNT	736501
+SHUFFLE	COPY_MAP_DATA	180926000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5015648
+SHUFFLE	COMPRESS_BYTE_COUNT	735470
+SHUFFLE	COPY_MAP_DATA	101169000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4995452
+SHUFFLE	COMPRESS_BYTE_COUNT	732604
+SHUFFLE	COPY_MAP_DATA	102811000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1197278
+SHUFFLE	COMPRESS_BYTE_COUNT	173662
+SHUFFLE	COPY_MAP_DATA	140073000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1183100
+SHUFFLE	COMPRESS_BYTE_COUNT	171710
+SHUFFLE	COPY_MAP_DATA	13606000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1181672
+SHUFFLE	COMPRESS_BYTE_COUNT	171490
+SHUFFLE	COPY_MAP_DATA	13777000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1161782
+SHUFFLE	COMPRESS_BYTE_COUNT	168636
+SHUFFLE	COPY_MAP_DATA	168331000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1184426
+SHUFFLE	COMPRESS_BYTE_COUNT	171944
+SHUFFLE	COPY_MAP_DATA	3071022000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1183406
+SHUFFLE	COMPRESS_BYTE_COUNT	171855
+SHUFFLE	COPY_MAP_DATA	12285000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1174226
+SHUFFLE	COMPRESS_BYTE_COUNT	170588
+SHUFFLE	COPY_MAP_DATA	43637000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1180448
+SHUFFLE	COMPRESS_BYTE_COUNT	171221
+SHUFFLE	COPY_MAP_DATA	13234000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1177286
+SHUFFLE	COMPRESS_BYTE_COUNT	170874
+SHUFFLE	COPY_MAP_DATA	13809000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5007794
+SHUFFLE	COMPRESS_BYTE_COUNT	734501
+SHUFFLE	COPY_MAP_DATA	1048548000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1179326
+SHUFFLE	COMPRESS_BYTE_COUNT	171107
+SHUFFLE	COPY_MAP_DATA	872429000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1175756
+SHUFFLE	COMPRESS_BYTE_COUNT	170632
+SHUFFLE	COPY_MAP_DATA	23084000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1171268
+SHUFFLE	COMPRESS_BYTE_COUNT	170118
+SHUFFLE	COPY_MAP_DATA	12721000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1186160
+SHUFFLE	COMPRESS_BYTE_COUNT	172101
+SHUFFLE	COPY_MAP_DATA	2249677000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4998818
+SHUFFLE	COMPRESS_BYTE_COUNT	733232
+SHUFFLE	COPY_MAP_DATA	44215000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4994942
+SHUFFLE	COMPRESS_BYTE_COUNT	732843
+SHUFFLE	COPY_MAP_DATA	195650000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1164740
+SHUFFLE	COMPRESS_BYTE_COUNT	169045
+SHUFFLE	COPY_MAP_DATA	14704000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1171676
+SHUFFLE	COMPRESS_BYTE_COUNT	170045
+SHUFFLE	COPY_MAP_DATA	4557397000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5015852
+SHUFFLE	COMPRESS_BYTE_COUNT	735943
+SHUFFLE	COPY_MAP_DATA	84446000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1175960
+SHUFFLE	COMPRESS_BYTE_COUNT	170680
+SHUFFLE	COPY_MAP_DATA	168635000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1172390
+SHUFFLE	COMPRESS_BYTE_COUNT	170030
+SHUFFLE	COPY_MAP_DATA	22196000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1184528
+SHUFFLE	COMPRESS_BYTE_COUNT	171837
+SHUFFLE	COPY_MAP_DATA	12791000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1189220
+SHUFFLE	COMPRESS_BYTE_COUNT	172564
+SHUFFLE	COPY_MAP_DATA	12222000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1175348
+SHUFFLE	COMPRESS_BYTE_COUNT	170554
+SHUFFLE	COPY_MAP_DATA	264777000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1190240
+SHUFFLE	COMPRESS_BYTE_COUNT	172768
+SHUFFLE	COPY_MAP_DATA	12253000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1181162
+SHUFFLE	COMPRESS_BYTE_COUNT	171475
+SHUFFLE	COPY_MAP_DATA	75299000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1178510
+SHUFFLE	COMPRESS_BYTE_COUNT	170979
+SHUFFLE	COPY_MAP_DATA	124731000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1162496
+SHUFFLE	COMPRESS_BYTE_COUNT	168808
+SHUFFLE	COPY_MAP_DATA	228004000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1172492
+SHUFFLE	COMPRESS_BYTE_COUNT	170166
+SHUFFLE	COPY_MAP_DATA	266600000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1181060
+SHUFFLE	COMPRESS_BYTE_COUNT	171518
+SHUFFLE	COPY_MAP_DATA	93522000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5017892
+SHUFFLE	COMPRESS_BYTE_COUNT	736340
+SHUFFLE	COPY_MAP_DATA	84450000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4995656
+SHUFFLE	COMPRESS_BYTE_COUNT	732541
+SHUFFLE	COPY_MAP_DATA	654371000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1188404
+SHUFFLE	COMPRESS_BYTE_COUNT	172447
+SHUFFLE	COPY_MAP_DATA	50484000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1166984
+SHUFFLE	COMPRESS_BYTE_COUNT	169414
+SHUFFLE	COPY_MAP_DATA	12539000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5031254
+SHUFFLE	COMPRESS_BYTE_COUNT	737704
+SHUFFLE	COPY_MAP_DATA	109227000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1179530
+SHUFFLE	COMPRESS_BYTE_COUNT	171199
+SHUFFLE	COPY_MAP_DATA	12887000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4989230
+SHUFFLE	COMPRESS_BYTE_COUNT	732069
+SHUFFLE	COPY_MAP_DATA	140002000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5015240
+SHUFFLE	COMPRESS_BYTE_COUNT	735338
+SHUFFLE	COPY_MAP_DATA	1017254000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1180958
+SHUFFLE	COMPRESS_BYTE_COUNT	171384
+SHUFFLE	COPY_MAP_DATA	616460000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1159028
+SHUFFLE	COMPRESS_BYTE_COUNT	168184
+SHUFFLE	COPY_MAP_DATA	11479000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1177082
+SHUFFLE	COMPRESS_BYTE_COUNT	170644
+SHUFFLE	COPY_MAP_DATA	285410000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1185140
+SHUFFLE	COMPRESS_BYTE_COUNT	171984
+SHUFFLE	COPY_MAP_DATA	1892967000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1187282
+SHUFFLE	COMPRESS_BYTE_COUNT	172238
+SHUFFLE	COPY_MAP_DATA	12939000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1160150
+SHUFFLE	COMPRESS_BYTE_COUNT	168358
+SHUFFLE	COPY_MAP_DATA	14612000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1180652
+SHUFFLE	COMPRESS_BYTE_COUNT	171341
+SHUFFLE	COPY_MAP_DATA	318996000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1175756
+SHUFFLE	COMPRESS_BYTE_COUNT	170576
+SHUFFLE	COPY_MAP_DATA	12847000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1159640
+SHUFFLE	COMPRESS_BYTE_COUNT	168484
+SHUFFLE	COPY_MAP_DATA	304655000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1185344
+SHUFFLE	COMPRESS_BYTE_COUNT	172195
+SHUFFLE	COPY_MAP_DATA	89463000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1186772
+SHUFFLE	COMPRESS_BYTE_COUNT	172169
+SHUFFLE	COPY_MAP_DATA	12382000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1164026
+SHUFFLE	COMPRESS_BYTE_COUNT	168980
+SHUFFLE	COPY_MAP_DATA	92958000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1186874
+SHUFFLE	COMPRESS_BYTE_COUNT	172216
+SHUFFLE	COPY_MAP_DATA	4225632000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5009528
+SHUFFLE	COMPRESS_BYTE_COUNT	734455
+SHUFFLE	COPY_MAP_DATA	53290000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1182182
+SHUFFLE	COMPRESS_BYTE_COUNT	171641
+SHUFFLE	COPY_MAP_DATA	13392000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1178408
+SHUFFLE	COMPRESS_BYTE_COUNT	171027
+SHUFFLE	COPY_MAP_DATA	12671000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1180142
+SHUFFLE	COMPRESS_BYTE_COUNT	171136
+SHUFFLE	COPY_MAP_DATA	12359000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1179530
+SHUFFLE	COMPRESS_BYTE_COUNT	171332
+SHUFFLE	COPY_MAP_DATA	15319000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1174532
+SHUFFLE	COMPRESS_BYTE_COUNT	170383
+SHUFFLE	COPY_MAP_DATA	12525000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1170656
+SHUFFLE	COMPRESS_BYTE_COUNT	169789
+SHUFFLE	COPY_MAP_DATA	33215000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1174328
+SHUFFLE	COMPRESS_BYTE_COUNT	170340
+SHUFFLE	COPY_MAP_DATA	14704000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1178918
+SHUFFLE	COMPRESS_BYTE_COUNT	171058
+SHUFFLE	COPY_MAP_DATA	35118000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1183814
+SHUFFLE	COMPRESS_BYTE_COUNT	171690
+SHUFFLE	COPY_MAP_DATA	31084000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1182080
+SHUFFLE	COMPRESS_BYTE_COUNT	171634
+SHUFFLE	COPY_MAP_DATA	30627000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1178816
+SHUFFLE	COMPRESS_BYTE_COUNT	171025
+SHUFFLE	COPY_MAP_DATA	12393000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1180754
+SHUFFLE	COMPRESS_BYTE_COUNT	171294
+SHUFFLE	COPY_MAP_DATA	12031000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1157294
+SHUFFLE	COMPRESS_BYTE_COUNT	168047
+SHUFFLE	COPY_MAP_DATA	11537000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1178306
+SHUFFLE	COMPRESS_BYTE_COUNT	170941
+SHUFFLE	COPY_MAP_DATA	209267000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1171778
+SHUFFLE	COMPRESS_BYTE_COUNT	170122
+SHUFFLE	COPY_MAP_DATA	11556000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1189628
+SHUFFLE	COMPRESS_BYTE_COUNT	172539
+SHUFFLE	COPY_MAP_DATA	12547000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1180754
+SHUFFLE	COMPRESS_BYTE_COUNT	171308
+SHUFFLE	COPY_MAP_DATA	11808000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1174124
+SHUFFLE	COMPRESS_BYTE_COUNT	170381
+SHUFFLE	COPY_MAP_DATA	12539000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1183202
+SHUFFLE	COMPRESS_BYTE_COUNT	171863
+SHUFFLE	COPY_MAP_DATA	32732000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1181162
+SHUFFLE	COMPRESS_BYTE_COUNT	171407
+SHUFFLE	COPY_MAP_DATA	13244000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1174838
+SHUFFLE	COMPRESS_BYTE_COUNT	170593
+SHUFFLE	COPY_MAP_DATA	12461000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1173104
+SHUFFLE	COMPRESS_BYTE_COUNT	170390
+SHUFFLE	COPY_MAP_DATA	12322000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1160048
+SHUFFLE	COMPRESS_BYTE_COUNT	168383
+SHUFFLE	COPY_MAP_DATA	110848000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1173512
+SHUFFLE	COMPRESS_BYTE_COUNT	170295
+SHUFFLE	COPY_MAP_DATA	12532000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1172084
+SHUFFLE	COMPRESS_BYTE_COUNT	170009
+SHUFFLE	COPY_MAP_DATA	12626000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1170146
+SHUFFLE	COMPRESS_BYTE_COUNT	169708
+SHUFFLE	COPY_MAP_DATA	12615000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1176062
+SHUFFLE	COMPRESS_BYTE_COUNT	170715
+SHUFFLE	COPY_MAP_DATA	11956000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1179632
+SHUFFLE	COMPRESS_BYTE_COUNT	171118
+SHUFFLE	COPY_MAP_DATA	529774000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1164434
+SHUFFLE	COMPRESS_BYTE_COUNT	169155
+SHUFFLE	COPY_MAP_DATA	12221000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1169432
+SHUFFLE	COMPRESS_BYTE_COUNT	169794
+SHUFFLE	COPY_MAP_DATA	11657000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1172186
+SHUFFLE	COMPRESS_BYTE_COUNT	170054
+SHUFFLE	COPY_MAP_DATA	11733000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1173410
+SHUFFLE	COMPRESS_BYTE_COUNT	170276
+SHUFFLE	COPY_MAP_DATA	12098000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1182386
+SHUFFLE	COMPRESS_BYTE_COUNT	171476
+SHUFFLE	COPY_MAP_DATA	12187000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1187384
+SHUFFLE	COMPRESS_BYTE_COUNT	172329
+SHUFFLE	COPY_MAP_DATA	12907000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	265386029000
+MERGE	READ_WRITE	253905328000
+MERGE	READ_WRITE_COUNT	7
+MERGE	COMBINE	0
+MERGE	WRITE	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	13209848000
+SORT	READ_WRITE	12954810000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	129279584
+REDUCE	SETUP	369000
+REDUCE	SETUP_MEM	129279584
+REDUCE	CLEANUP	36000
+REDUCE	CLEANUP_MEM	142119744
+REDUCE	TOTAL_RUN	162431168000
+REDUCE	READ	21595929000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	83941031000
+REDUCE	WRITE	32129659000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	109699800
+REDUCE	VALUE_BYTE_COUNT	965358240
+REDUCE	REDUCE_MEM	142121792
+REDUCE	WRITE	3846000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	719840556000
@@ -0,0 +1,1229 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5054000
+SHUFFLE	COMPRESS_BYTE_COUNT	741140
+SHUFFLE	COPY_MAP_DATA	927251000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5087762
+SHUFFLE	COMPRESS_BYTE_COUNT	745250
+SHUFFLE	COPY_MAP_DATA	1550692000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5069300
+SHUFFLE	COMPRESS_BYTE_COUNT	743795
+SHUFFLE	COPY_MAP_DATA	134384000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5088884
+SHUFFLE	COMPRESS_BYTE_COUNT	745917
+SHUFFLE	COPY_MAP_DATA	192592000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5093474
+SHUFFLE	COMPRESS_BYTE_COUNT	746691
+SHUFFLE	COPY_MAP_DATA	85453000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5094596
+SHUFFLE	COMPRESS_BYTE_COUNT	747267
+SHUFFLE	COPY_MAP_DATA	48076000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5092250
+SHUFFLE	COMPRESS_BYTE_COUNT	746673
+SHUFFLE	COPY_MAP_DATA	63332000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5076542
+SHUFFLE	COMPRESS_BYTE_COUNT	744485
+SHUFFLE	COPY_MAP_DATA	53423000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5030642
+SHUFFLE	COMPRESS_BYTE_COUNT	738089
+SHUFFLE	COPY_MAP_DATA	371438000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5069912
+SHUFFLE	COMPRESS_BYTE_COUNT	743603
+SHUFFLE	COPY_MAP_DATA	50665000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5106428
+SHUFFLE	COMPRESS_BYTE_COUNT	748631
+SHUFFLE	COPY_MAP_DATA	70446000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5066852
+SHUFFLE	COMPRESS_BYTE_COUNT	743157
+SHUFFLE	COPY_MAP_DATA	57068000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5077256
+SHUFFLE	COMPRESS_BYTE_COUNT	744690
+SHUFFLE	COPY_MAP_DATA	103487000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5092046
+SHUFFLE	COMPRESS_BYTE_COUNT	747179
+SHUFFLE	COPY_MAP_DATA	76409000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5086946
+SHUFFLE	COMPRESS_BYTE_COUNT	745834
+SHUFFLE	COPY_MAP_DATA	295602000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5067974
+SHUFFLE	COMPRESS_BYTE_COUNT	743665
+SHUFFLE	COPY_MAP_DATA	50504000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5047574
+SHUFFLE	COMPRESS_BYTE_COUNT	740653
+SHUFFLE	COPY_MAP_DATA	57760000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5122952
+SHUFFLE	COMPRESS_BYTE_COUNT	751449
+SHUFFLE	COPY_MAP_DATA	45767000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5050940
+SHUFFLE	COMPRESS_BYTE_COUNT	741305
+SHUFFLE	COPY_MAP_DATA	288865000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5053796
+SHUFFLE	COMPRESS_BYTE_COUNT	741458
+SHUFFLE	COPY_MAP_DATA	177069000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5089802
+SHUFFLE	COMPRESS_BYTE_COUNT	746409
+SHUFFLE	COPY_MAP_DATA	46701000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5102960
+SHUFFLE	COMPRESS_BYTE_COUNT	748446
+SHUFFLE	COPY_MAP_DATA	47354000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5050838
+SHUFFLE	COMPRESS_BYTE_COUNT	741131
+SHUFFLE	COPY_MAP_DATA	81337000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5075216
+SHUFFLE	COMPRESS_BYTE_COUNT	744155
+SHUFFLE	COPY_MAP_DATA	47273000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5108774
+SHUFFLE	COMPRESS_BYTE_COUNT	749002
+SHUFFLE	COPY_MAP_DATA	3733136000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5033804
+SHUFFLE	COMPRESS_BYTE_COUNT	737985
+SHUFFLE	COPY_MAP_DATA	48795000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5122442
+SHUFFLE	COMPRESS_BYTE_COUNT	751550
+SHUFFLE	COPY_MAP_DATA	54134000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5076236
+SHUFFLE	COMPRESS_BYTE_COUNT	744377
+SHUFFLE	COPY_MAP_DATA	1290616000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5055428
+SHUFFLE	COMPRESS_BYTE_COUNT	741656
+SHUFFLE	COPY_MAP_DATA	213917000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5073788
+SHUFFLE	COMPRESS_BYTE_COUNT	744086
+SHUFFLE	COPY_MAP_DATA	46134000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5070116
+SHUFFLE	COMPRESS_BYTE_COUNT	743950
+SHUFFLE	COPY_MAP_DATA	51556000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5055938
+SHUFFLE	COMPRESS_BYTE_COUNT	741769
+SHUFFLE	COPY_MAP_DATA	1529315000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5071136
+SHUFFLE	COMPRESS_BYTE_COUNT	743562
+SHUFFLE	COPY_MAP_DATA	144908000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5090108
+SHUFFLE	COMPRESS_BYTE_COUNT	746447
+SHUFFLE	COPY_MAP_DATA	44623000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5098370
+SHUFFLE	COMPRESS_BYTE_COUNT	748116
+SHUFFLE	COPY_MAP_DATA	197481000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5092964
+SHUFFLE	COMPRESS_BYTE_COUNT	746624
+SHUFFLE	COPY_MAP_DATA	82908000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5063792
+SHUFFLE	COMPRESS_BYTE_COUNT	743128
+SHUFFLE	COPY_MAP_DATA	50109000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5079398
+SHUFFLE	COMPRESS_BYTE_COUNT	745373
+SHUFFLE	COPY_MAP_DATA	90140000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5076032
+SHUFFLE	COMPRESS_BYTE_COUNT	744518
+SHUFFLE	COPY_MAP_DATA	344394000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5082662
+SHUFFLE	COMPRESS_BYTE_COUNT	745398
+SHUFFLE	COPY_MAP_DATA	96966000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5087966
+SHUFFLE	COMPRESS_BYTE_COUNT	746051
+SHUFFLE	COPY_MAP_DATA	306735000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5091332
+SHUFFLE	COMPRESS_BYTE_COUNT	746785
+SHUFFLE	COPY_MAP_DATA	4134115000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5057162
+SHUFFLE	COMPRESS_BYTE_COUNT	741842
+SHUFFLE	COPY_MAP_DATA	107334000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5082662
+SHUFFLE	COMPRESS_BYTE_COUNT	745473
+SHUFFLE	COPY_MAP_DATA	556744000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5090210
+SHUFFLE	COMPRESS_BYTE_COUNT	746485
+SHUFFLE	COPY_MAP_DATA	46525000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5066852
+SHUFFLE	COMPRESS_BYTE_COUNT	743063
+SHUFFLE	COPY_MAP_DATA	46632000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5070218
+SHUFFLE	COMPRESS_BYTE_COUNT	743958
+SHUFFLE	COPY_MAP_DATA	56192000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5080214
+SHUFFLE	COMPRESS_BYTE_COUNT	744758
+SHUFFLE	COPY_MAP_DATA	76379000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5037680
+SHUFFLE	COMPRESS_BYTE_COUNT	738809
+SHUFFLE	COPY_MAP_DATA	66656000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5055428
+SHUFFLE	COMPRESS_BYTE_COUNT	741650
+SHUFFLE	COPY_MAP_DATA	44444000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5077766
+SHUFFLE	COMPRESS_BYTE_COUNT	745129
+SHUFFLE	COPY_MAP_DATA	51187000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5056958
+SHUFFLE	COMPRESS_BYTE_COUNT	741985
+SHUFFLE	COPY_MAP_DATA	102671000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5079194
+SHUFFLE	COMPRESS_BYTE_COUNT	745010
+SHUFFLE	COPY_MAP_DATA	284903000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5093270
+SHUFFLE	COMPRESS_BYTE_COUNT	746646
+SHUFFLE	COPY_MAP_DATA	98563000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5089190
+SHUFFLE	COMPRESS_BYTE_COUNT	742087
+SHUFFLE	COPY_MAP_DATA	43757000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5081336
+SHUFFLE	COMPRESS_BYTE_COUNT	744743
+SHUFFLE	COPY_MAP_DATA	44085000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5121932
+SHUFFLE	COMPRESS_BYTE_COUNT	750882
+SHUFFLE	COPY_MAP_DATA	310940000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5086334
+SHUFFLE	COMPRESS_BYTE_COUNT	745634
+SHUFFLE	COPY_MAP_DATA	45256000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5107142
+SHUFFLE	COMPRESS_BYTE_COUNT	748738
+SHUFFLE	COPY_MAP_DATA	87118000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5045024
+SHUFFLE	COMPRESS_BYTE_COUNT	739950
+SHUFFLE	COPY_MAP_DATA	68945000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5068178
+SHUFFLE	COMPRESS_BYTE_COUNT	743621
+SHUFFLE	COPY_MAP_DATA	47303000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5107244
+SHUFFLE	COMPRESS_BYTE_COUNT	749491
+SHUFFLE	COPY_MAP_DATA	45865000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5091026
+SHUFFLE	COMPRESS_BYTE_COUNT	746275
+SHUFFLE	COPY_MAP_DATA	44624000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5053286
+SHUFFLE	COMPRESS_BYTE_COUNT	741175
+SHUFFLE	COPY_MAP_DATA	45086000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5060426
+SHUFFLE	COMPRESS_BYTE_COUNT	742429
+SHUFFLE	COPY_MAP_DATA	51257000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5015546
+SHUFFLE	COMPRESS_BYTE_COUNT	735521
+SHUFFLE	COPY_MAP_DATA	1149590000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5061344
+SHUFFLE	COMPRESS_BYTE_COUNT	742217
+SHUFFLE	COPY_MAP_DATA	223426000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5102144
+SHUFFLE	COMPRESS_BYTE_COUNT	748150
+SHUFFLE	COPY_MAP_DATA	45443000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5084294
+SHUFFLE	COMPRESS_BYTE_COUNT	745671
+SHUFFLE	COPY_MAP_DATA	219391000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5053184
+SHUFFLE	COMPRESS_BYTE_COUNT	741254
+SHUFFLE	COPY_MAP_DATA	52406000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5054612
+SHUFFLE	COMPRESS_BYTE_COUNT	741597
+SHUFFLE	COPY_MAP_DATA	96769000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5051756
+SHUFFLE	COMPRESS_BYTE_COUNT	741180
+SHUFFLE	COPY_MAP_DATA	256965000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5066138
+SHUFFLE	COMPRESS_BYTE_COUNT	743283
+SHUFFLE	COPY_MAP_DATA	104429000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5088476
+SHUFFLE	COMPRESS_BYTE_COUNT	746272
+SHUFFLE	COPY_MAP_DATA	55357000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5061956
+SHUFFLE	COMPRESS_BYTE_COUNT	742537
+SHUFFLE	COPY_MAP_DATA	45374000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5041964
+SHUFFLE	COMPRESS_BYTE_COUNT	739576
+SHUFFLE	COPY_MAP_DATA	45390000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5074910
+SHUFFLE	COMPRESS_BYTE_COUNT	743932
+SHUFFLE	COPY_MAP_DATA	88998000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5086538
+SHUFFLE	COMPRESS_BYTE_COUNT	746436
+SHUFFLE	COPY_MAP_DATA	189221000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5088476
+SHUFFLE	COMPRESS_BYTE_COUNT	746020
+SHUFFLE	COPY_MAP_DATA	53242000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5062772
+SHUFFLE	COMPRESS_BYTE_COUNT	743000
+SHUFFLE	COPY_MAP_DATA	766013000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5047370
+SHUFFLE	COMPRESS_BYTE_COUNT	740475
+SHUFFLE	COPY_MAP_DATA	197030000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5089088
+SHUFFLE	COMPRESS_BYTE_COUNT	746521
+SHUFFLE	COPY_MAP_DATA	302906000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5086946
+SHUFFLE	COMPRESS_BYTE_COUNT	746136
+SHUFFLE	COPY_MAP_DATA	7476522000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5074196
+SHUFFLE	COMPRESS_BYTE_COUNT	744109
+SHUFFLE	COPY_MAP_DATA	44256000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5043086
+SHUFFLE	COMPRESS_BYTE_COUNT	740040
+SHUFFLE	COPY_MAP_DATA	47605000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5102144
+SHUFFLE	COMPRESS_BYTE_COUNT	748356
+SHUFFLE	COPY_MAP_DATA	608482000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5080010
+SHUFFLE	COMPRESS_BYTE_COUNT	745051
+SHUFFLE	COPY_MAP_DATA	122183000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5070728
+SHUFFLE	COMPRESS_BYTE_COUNT	743461
+SHUFFLE	COPY_MAP_DATA	7792480000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5083070
+SHUFFLE	COMPRESS_BYTE_COUNT	745482
+SHUFFLE	COPY_MAP_DATA	364646000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5119382
+SHUFFLE	COMPRESS_BYTE_COUNT	751013
+SHUFFLE	COPY_MAP_DATA	82043000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5108876
+SHUFFLE	COMPRESS_BYTE_COUNT	749098
+SHUFFLE	COPY_MAP_DATA	4405296000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5062772
+SHUFFLE	COMPRESS_BYTE_COUNT	742309
+SHUFFLE	COPY_MAP_DATA	45034000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5078378
+SHUFFLE	COMPRESS_BYTE_COUNT	744719
+SHUFFLE	COPY_MAP_DATA	1459894000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5080622
+SHUFFLE	COMPRESS_BYTE_COUNT	745320
+SHUFFLE	COPY_MAP_DATA	104500000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5110406
+SHUFFLE	COMPRESS_BYTE_COUNT	749609
+SHUFFLE	COPY_MAP_DATA	72220000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5080928
+SHUFFLE	COMPRESS_BYTE_COUNT	745557
+SHUFFLE	COPY_MAP_DATA	45892000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5089088
+SHUFFLE	COMPRESS_BYTE_COUNT	746258
+SHUFFLE	COPY_MAP_DATA	259107000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5068586
+SHUFFLE	COMPRESS_BYTE_COUNT	743566
+SHUFFLE	COPY_MAP_DATA	62833000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5059814
+SHUFFLE	COMPRESS_BYTE_COUNT	741953
+SHUFFLE	COPY_MAP_DATA	459517000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5048798
+SHUFFLE	COMPRESS_BYTE_COUNT	740632
+SHUFFLE	COPY_MAP_DATA	1329131000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5118770
+SHUFFLE	COMPRESS_BYTE_COUNT	750686
+SHUFFLE	COPY_MAP_DATA	281536000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5103470
+SHUFFLE	COMPRESS_BYTE_COUNT	748152
+SHUFFLE	COPY_MAP_DATA	107040000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5149472
+SHUFFLE	COMPRESS_BYTE_COUNT	755317
+SHUFFLE	COPY_MAP_DATA	103433000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5102042
+SHUFFLE	COMPRESS_BYTE_COUNT	748018
+SHUFFLE	COPY_MAP_DATA	78076000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5059406
+SHUFFLE	COMPRESS_BYTE_COUNT	741689
+SHUFFLE	COPY_MAP_DATA	45125000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5097350
+SHUFFLE	COMPRESS_BYTE_COUNT	747719
+SHUFFLE	COPY_MAP_DATA	750513000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5046044
+SHUFFLE	COMPRESS_BYTE_COUNT	739918
+SHUFFLE	COPY_MAP_DATA	390842000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5111630
+SHUFFLE	COMPRESS_BYTE_COUNT	749783
+SHUFFLE	COPY_MAP_DATA	48283000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5078582
+SHUFFLE	COMPRESS_BYTE_COUNT	744866
+SHUFFLE	COPY_MAP_DATA	510389000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5070014
+SHUFFLE	COMPRESS_BYTE_COUNT	743675
+SHUFFLE	COPY_MAP_DATA	45892000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5077664
+SHUFFLE	COMPRESS_BYTE_COUNT	744487
+SHUFFLE	COPY_MAP_DATA	45762000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5083478
+SHUFFLE	COMPRESS_BYTE_COUNT	745706
+SHUFFLE	COPY_MAP_DATA	72310000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5110304
+SHUFFLE	COMPRESS_BYTE_COUNT	749466
+SHUFFLE	COPY_MAP_DATA	169404000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5108264
+SHUFFLE	COMPRESS_BYTE_COUNT	749237
+SHUFFLE	COPY_MAP_DATA	126636000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5044718
+SHUFFLE	COMPRESS_BYTE_COUNT	739813
+SHUFFLE	COPY_MAP_DATA	64809000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5058080
+SHUFFLE	COMPRESS_BYTE_COUNT	742427
+SHUFFLE	COPY_MAP_DATA	54454000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5119484
+SHUFFLE	COMPRESS_BYTE_COUNT	750824
+SHUFFLE	COPY_MAP_DATA	51707000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5054408
+SHUFFLE	COMPRESS_BYTE_COUNT	741072
+SHUFFLE	COPY_MAP_DATA	835380000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5122952
+SHUFFLE	COMPRESS_BYTE_COUNT	750879
+SHUFFLE	COPY_MAP_DATA	120645000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5033498
+SHUFFLE	COMPRESS_BYTE_COUNT	738668
+SHUFFLE	COPY_MAP_DATA	79541000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5067260
+SHUFFLE	COMPRESS_BYTE_COUNT	743434
+SHUFFLE	COPY_MAP_DATA	260202000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5050940
+SHUFFLE	COMPRESS_BYTE_COUNT	740543
+SHUFFLE	COPY_MAP_DATA	174112000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5054000
+SHUFFLE	COMPRESS_BYTE_COUNT	741006
+SHUFFLE	COPY_MAP_DATA	73533000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5047166
+SHUFFLE	COMPRESS_BYTE_COUNT	740161
+SHUFFLE	COPY_MAP_DATA	43927000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5090516
+SHUFFLE	COMPRESS_BYTE_COUNT	746402
+SHUFFLE	COPY_MAP_DATA	45034000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5120606
+SHUFFLE	COMPRESS_BYTE_COUNT	750649
+SHUFFLE	COPY_MAP_DATA	44307000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5097758
+SHUFFLE	COMPRESS_BYTE_COUNT	748073
+SHUFFLE	COPY_MAP_DATA	44191000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5084498
+SHUFFLE	COMPRESS_BYTE_COUNT	746070
+SHUFFLE	COPY_MAP_DATA	51672000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5066546
+SHUFFLE	COMPRESS_BYTE_COUNT	742997
+SHUFFLE	COPY_MAP_DATA	614156000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5081642
+SHUFFLE	COMPRESS_BYTE_COUNT	745356
+SHUFFLE	COPY_MAP_DATA	52280000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5081540
+SHUFFLE	COMPRESS_BYTE_COUNT	745343
+SHUFFLE	COPY_MAP_DATA	89601000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5065526
+SHUFFLE	COMPRESS_BYTE_COUNT	742936
+SHUFFLE	COPY_MAP_DATA	186351000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5048186
+SHUFFLE	COMPRESS_BYTE_COUNT	740619
+SHUFFLE	COPY_MAP_DATA	276821000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5092862
+SHUFFLE	COMPRESS_BYTE_COUNT	747333
+SHUFFLE	COPY_MAP_DATA	63802000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5096024
+SHUFFLE	COMPRESS_BYTE_COUNT	747011
+SHUFFLE	COPY_MAP_DATA	346830000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5082356
+SHUFFLE	COMPRESS_BYTE_COUNT	745034
+SHUFFLE	COPY_MAP_DATA	45225000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5117546
+SHUFFLE	COMPRESS_BYTE_COUNT	743424
+SHUFFLE	COPY_MAP_DATA	51597000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5075522
+SHUFFLE	COMPRESS_BYTE_COUNT	743924
+SHUFFLE	COPY_MAP_DATA	46181000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5075114
+SHUFFLE	COMPRESS_BYTE_COUNT	744174
+SHUFFLE	COPY_MAP_DATA	374294000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5082356
+SHUFFLE	COMPRESS_BYTE_COUNT	745346
+SHUFFLE	COPY_MAP_DATA	396458000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5102246
+SHUFFLE	COMPRESS_BYTE_COUNT	748419
+SHUFFLE	COPY_MAP_DATA	88296000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5088782
+SHUFFLE	COMPRESS_BYTE_COUNT	746370
+SHUFFLE	COPY_MAP_DATA	2656558000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5087252
+SHUFFLE	COMPRESS_BYTE_COUNT	746391
+SHUFFLE	COPY_MAP_DATA	262282000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5066138
+SHUFFLE	COMPRESS_BYTE_COUNT	742678
+SHUFFLE	COPY_MAP_DATA	58578000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5087354
+SHUFFLE	COMPRESS_BYTE_COUNT	746203
+SHUFFLE	COPY_MAP_DATA	64120000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1194830
+SHUFFLE	COMPRESS_BYTE_COUNT	173564
+SHUFFLE	COPY_MAP_DATA	13434000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5055836
+SHUFFLE	COMPRESS_BYTE_COUNT	741173
+SHUFFLE	COPY_MAP_DATA	46465000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5071442
+SHUFFLE	COMPRESS_BYTE_COUNT	743873
+SHUFFLE	COPY_MAP_DATA	47972000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5114282
+SHUFFLE	COMPRESS_BYTE_COUNT	750389
+SHUFFLE	COPY_MAP_DATA	6108270000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5074910
+SHUFFLE	COMPRESS_BYTE_COUNT	744023
+SHUFFLE	COPY_MAP_DATA	45834000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1177184
+SHUFFLE	COMPRESS_BYTE_COUNT	171054
+SHUFFLE	COPY_MAP_DATA	25348000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5080724
+SHUFFLE	COMPRESS_BYTE_COUNT	745375
+SHUFFLE	COPY_MAP_DATA	46380000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1189118
+SHUFFLE	COMPRESS_BYTE_COUNT	172585
+SHUFFLE	COPY_MAP_DATA	13349000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5102144
+SHUFFLE	COMPRESS_BYTE_COUNT	748420
+SHUFFLE	COPY_MAP_DATA	4016025000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5107448
+SHUFFLE	COMPRESS_BYTE_COUNT	749347
+SHUFFLE	COPY_MAP_DATA	142748000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5033396
+SHUFFLE	COMPRESS_BYTE_COUNT	738678
+SHUFFLE	COPY_MAP_DATA	5759436000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5107040
+SHUFFLE	COMPRESS_BYTE_COUNT	748578
+SHUFFLE	COPY_MAP_DATA	2196256000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5034314
+SHUFFLE	COMPRESS_BYTE_COUNT	738736
+SHUFFLE	COPY_MAP_DATA	116637000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5115812
+SHUFFLE	COMPRESS_BYTE_COUNT	749890
+SHUFFLE	COPY_MAP_DATA	653078000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1182488
+SHUFFLE	COMPRESS_BYTE_COUNT	171697
+SHUFFLE	COPY_MAP_DATA	300105000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1222472
+SHUFFLE	COMPRESS_BYTE_COUNT	177431
+SHUFFLE	COPY_MAP_DATA	219689000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5068790
+SHUFFLE	COMPRESS_BYTE_COUNT	743953
+SHUFFLE	COPY_MAP_DATA	43564000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5076134
+SHUFFLE	COMPRESS_BYTE_COUNT	744485
+SHUFFLE	COPY_MAP_DATA	45629000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5117852
+SHUFFLE	COMPRESS_BYTE_COUNT	750257
+SHUFFLE	COPY_MAP_DATA	92804000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5052878
+SHUFFLE	COMPRESS_BYTE_COUNT	741013
+SHUFFLE	COPY_MAP_DATA	346956000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5084702
+SHUFFLE	COMPRESS_BYTE_COUNT	746070
+SHUFFLE	COPY_MAP_DATA	46708000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1195748
+SHUFFLE	COMPRESS_BYTE_COUNT	173641
+SHUFFLE	COPY_MAP_DATA	13139000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5033090
+SHUFFLE	COMPRESS_BYTE_COUNT	738547
+SHUFFLE	COPY_MAP_DATA	45878000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5057570
+SHUFFLE	COMPRESS_BYTE_COUNT	741736
+SHUFFLE	COPY_MAP_DATA	420051000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5152940
+SHUFFLE	COMPRESS_BYTE_COUNT	755529
+SHUFFLE	COPY_MAP_DATA	5592831000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5051552
+SHUFFLE	COMPRESS_BYTE_COUNT	741378
+SHUFFLE	COPY_MAP_DATA	53507000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5033090
+SHUFFLE	COMPRESS_BYTE_COUNT	737801
+SHUFFLE	COPY_MAP_DATA	201516000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5059712
+SHUFFLE	COMPRESS_BYTE_COUNT	741943
+SHUFFLE	COPY_MAP_DATA	7517101000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1182284
+SHUFFLE	COMPRESS_BYTE_COUNT	171629
+SHUFFLE	COPY_MAP_DATA	3293196921
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5114894
+SHUFFLE	COMPRESS_BYTE_COUNT	750209
+SHUFFLE	COPY_MAP_DATA	130967000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1209212
+SHUFFLE	COMPRESS_BYTE_COUNT	175561
+SHUFFLE	COPY_MAP_DATA	15617000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5081948
+SHUFFLE	COMPRESS_BYTE_COUNT	745388
+SHUFFLE	COPY_MAP_DATA	150448000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5070422
+SHUFFLE	COMPRESS_BYTE_COUNT	743455
+SHUFFLE	COPY_MAP_DATA	1104508000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1174328
+SHUFFLE	COMPRESS_BYTE_COUNT	170414
+SHUFFLE	COPY_MAP_DATA	2160116000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5068790
+SHUFFLE	COMPRESS_BYTE_COUNT	743017
+SHUFFLE	COPY_MAP_DATA	2974605000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5100002
+SHUFFLE	COMPRESS_BYTE_COUNT	748185
+SHUFFLE	COPY_MAP_DATA	5702316000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5084396
+SHUFFLE	COMPRESS_BYTE_COUNT	745778
+SHUFFLE	COPY_MAP_DATA	2913167000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1181774
+SHUFFLE	COMPRESS_BYTE_COUNT	171576
+SHUFFLE	COPY_MAP_DATA	29167000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5054714
+SHUFFLE	COMPRESS_BYTE_COUNT	741013
+SHUFFLE	COPY_MAP_DATA	43790000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5084294
+SHUFFLE	COMPRESS_BYTE_COUNT	745403
+SHUFFLE	COPY_MAP_DATA	2807393000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5093372
+SHUFFLE	COMPRESS_BYTE_COUNT	747606
+SHUFFLE	COPY_MAP_DATA	45083000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5066648
+SHUFFLE	COMPRESS_BYTE_COUNT	743399
+SHUFFLE	COPY_MAP_DATA	1515951000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1207682
+SHUFFLE	COMPRESS_BYTE_COUNT	175360
+SHUFFLE	COPY_MAP_DATA	13707000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5084090
+SHUFFLE	COMPRESS_BYTE_COUNT	745330
+SHUFFLE	COPY_MAP_DATA	444381000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5091332
+SHUFFLE	COMPRESS_BYTE_COUNT	746591
+SHUFFLE	COPY_MAP_DATA	50422000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1211048
+SHUFFLE	COMPRESS_BYTE_COUNT	175839
+SHUFFLE	COPY_MAP_DATA	13675000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1184222
+SHUFFLE	COMPRESS_BYTE_COUNT	171847
+SHUFFLE	COPY_MAP_DATA	484871000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1200236
+SHUFFLE	COMPRESS_BYTE_COUNT	174234
+SHUFFLE	COPY_MAP_DATA	13038000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5064404
+SHUFFLE	COMPRESS_BYTE_COUNT	743048
+SHUFFLE	COPY_MAP_DATA	110484000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5096228
+SHUFFLE	COMPRESS_BYTE_COUNT	747251
+SHUFFLE	COPY_MAP_DATA	55122000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5095208
+SHUFFLE	COMPRESS_BYTE_COUNT	747621
+SHUFFLE	COPY_MAP_DATA	45889000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1198502
+SHUFFLE	COMPRESS_BYTE_COUNT	173951
+SHUFFLE	COPY_MAP_DATA	12656000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1209212
+SHUFFLE	COMPRESS_BYTE_COUNT	175459
+SHUFFLE	COPY_MAP_DATA	176899000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1215740
+SHUFFLE	COMPRESS_BYTE_COUNT	176489
+SHUFFLE	COPY_MAP_DATA	12685000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1197686
+SHUFFLE	COMPRESS_BYTE_COUNT	173837
+SHUFFLE	COPY_MAP_DATA	11305000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1198808
+SHUFFLE	COMPRESS_BYTE_COUNT	174023
+SHUFFLE	COPY_MAP_DATA	13281000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5098064
+SHUFFLE	COMPRESS_BYTE_COUNT	747648
+SHUFFLE	COPY_MAP_DATA	107825000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1206662
+SHUFFLE	COMPRESS_BYTE_COUNT	175270
+SHUFFLE	COPY_MAP_DATA	297625000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5056244
+SHUFFLE	COMPRESS_BYTE_COUNT	741488
+SHUFFLE	COPY_MAP_DATA	60538000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1204622
+SHUFFLE	COMPRESS_BYTE_COUNT	174890
+SHUFFLE	COPY_MAP_DATA	151278000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5080112
+SHUFFLE	COMPRESS_BYTE_COUNT	745419
+SHUFFLE	COPY_MAP_DATA	1617472000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5038292
+SHUFFLE	COMPRESS_BYTE_COUNT	739191
+SHUFFLE	COPY_MAP_DATA	233266000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1189322
+SHUFFLE	COMPRESS_BYTE_COUNT	172546
+SHUFFLE	COPY_MAP_DATA	145372000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5103878
+SHUFFLE	COMPRESS_BYTE_COUNT	748003
+SHUFFLE	COPY_MAP_DATA	45992000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1199726
+SHUFFLE	COMPRESS_BYTE_COUNT	174108
+SHUFFLE	COPY_MAP_DATA	3968136000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1202378
+SHUFFLE	COMPRESS_BYTE_COUNT	174463
+SHUFFLE	COPY_MAP_DATA	1279941000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5092964
+SHUFFLE	COMPRESS_BYTE_COUNT	747138
+SHUFFLE	COPY_MAP_DATA	308146000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1189628
+SHUFFLE	COMPRESS_BYTE_COUNT	172724
+SHUFFLE	COPY_MAP_DATA	14217000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5069504
+SHUFFLE	COMPRESS_BYTE_COUNT	743267
+SHUFFLE	COPY_MAP_DATA	46370000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5090720
+SHUFFLE	COMPRESS_BYTE_COUNT	746534
+SHUFFLE	COPY_MAP_DATA	1133516000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1183100
+SHUFFLE	COMPRESS_BYTE_COUNT	171739
+SHUFFLE	COPY_MAP_DATA	12937000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1190342
+SHUFFLE	COMPRESS_BYTE_COUNT	172851
+SHUFFLE	COPY_MAP_DATA	13511000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1182488
+SHUFFLE	COMPRESS_BYTE_COUNT	171713
+SHUFFLE	COPY_MAP_DATA	12759000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1185446
+SHUFFLE	COMPRESS_BYTE_COUNT	172149
+SHUFFLE	COPY_MAP_DATA	15544000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1194014
+SHUFFLE	COMPRESS_BYTE_COUNT	173241
+SHUFFLE	COPY_MAP_DATA	369238000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1191974
+SHUFFLE	COMPRESS_BYTE_COUNT	173068
+SHUFFLE	COPY_MAP_DATA	19632000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1166066
+SHUFFLE	COMPRESS_BYTE_COUNT	169290
+SHUFFLE	COPY_MAP_DATA	12372000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1184018
+SHUFFLE	COMPRESS_BYTE_COUNT	171834
+SHUFFLE	COPY_MAP_DATA	14354000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1191668
+SHUFFLE	COMPRESS_BYTE_COUNT	172961
+SHUFFLE	COPY_MAP_DATA	40094000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1177184
+SHUFFLE	COMPRESS_BYTE_COUNT	170822
+SHUFFLE	COPY_MAP_DATA	5750182000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5125604
+SHUFFLE	COMPRESS_BYTE_COUNT	751862
+SHUFFLE	COPY_MAP_DATA	47946000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5043596
+SHUFFLE	COMPRESS_BYTE_COUNT	739797
+SHUFFLE	COPY_MAP_DATA	66959000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5094902
+SHUFFLE	COMPRESS_BYTE_COUNT	747003
+SHUFFLE	COPY_MAP_DATA	553673000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1198298
+SHUFFLE	COMPRESS_BYTE_COUNT	174000
+SHUFFLE	COPY_MAP_DATA	13091000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1184528
+SHUFFLE	COMPRESS_BYTE_COUNT	171957
+SHUFFLE	COPY_MAP_DATA	3097103000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1184426
+SHUFFLE	COMPRESS_BYTE_COUNT	171999
+SHUFFLE	COPY_MAP_DATA	13885000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5089802
+SHUFFLE	COMPRESS_BYTE_COUNT	746821
+SHUFFLE	COPY_MAP_DATA	3433200000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1203602
+SHUFFLE	COMPRESS_BYTE_COUNT	174682
+SHUFFLE	COPY_MAP_DATA	35062000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1190750
+SHUFFLE	COMPRESS_BYTE_COUNT	172953
+SHUFFLE	COPY_MAP_DATA	16815000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1190954
+SHUFFLE	COMPRESS_BYTE_COUNT	173004
+SHUFFLE	COPY_MAP_DATA	2703472000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1205336
+SHUFFLE	COMPRESS_BYTE_COUNT	174919
+SHUFFLE	COPY_MAP_DATA	15244000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1194830
+SHUFFLE	COMPRESS_BYTE_COUNT	173513
+SHUFFLE	COPY_MAP_DATA	13399000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1198196
+SHUFFLE	COMPRESS_BYTE_COUNT	173933
+SHUFFLE	COPY_MAP_DATA	40527000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1202582
+SHUFFLE	COMPRESS_BYTE_COUNT	174694
+SHUFFLE	COPY_MAP_DATA	481005000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1170044
+SHUFFLE	COMPRESS_BYTE_COUNT	169868
+SHUFFLE	COPY_MAP_DATA	28817000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1196870
+SHUFFLE	COMPRESS_BYTE_COUNT	173783
+SHUFFLE	COPY_MAP_DATA	11674000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5044616
+SHUFFLE	COMPRESS_BYTE_COUNT	740026
+SHUFFLE	COPY_MAP_DATA	42936000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5061344
+SHUFFLE	COMPRESS_BYTE_COUNT	742327
+SHUFFLE	COPY_MAP_DATA	48021000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1196462
+SHUFFLE	COMPRESS_BYTE_COUNT	173703
+SHUFFLE	COPY_MAP_DATA	23181000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1198298
+SHUFFLE	COMPRESS_BYTE_COUNT	174047
+SHUFFLE	COPY_MAP_DATA	2696176000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1195646
+SHUFFLE	COMPRESS_BYTE_COUNT	173594
+SHUFFLE	COPY_MAP_DATA	342092000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1183304
+SHUFFLE	COMPRESS_BYTE_COUNT	171811
+SHUFFLE	COPY_MAP_DATA	11891000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5080316
+SHUFFLE	COMPRESS_BYTE_COUNT	744993
+SHUFFLE	COPY_MAP_DATA	46175000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1171268
+SHUFFLE	COMPRESS_BYTE_COUNT	169956
+SHUFFLE	COPY_MAP_DATA	127726000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1185548
+SHUFFLE	COMPRESS_BYTE_COUNT	172029
+SHUFFLE	COPY_MAP_DATA	12769000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1188098
+SHUFFLE	COMPRESS_BYTE_COUNT	172326
+SHUFFLE	COPY_MAP_DATA	35562000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5090312
+SHUFFLE	COMPRESS_BYTE_COUNT	746229
+SHUFFLE	COPY_MAP_DATA	444936000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5081846
+SHUFFLE	COMPRESS_BYTE_COUNT	745341
+SHUFFLE	COPY_MAP_DATA	164505000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1189526
+SHUFFLE	COMPRESS_BYTE_COUNT	172496
+SHUFFLE	COPY_MAP_DATA	80943000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1190036
+SHUFFLE	COMPRESS_BYTE_COUNT	172839
+SHUFFLE	COPY_MAP_DATA	26855000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1187180
+SHUFFLE	COMPRESS_BYTE_COUNT	172320
+SHUFFLE	COPY_MAP_DATA	310910000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1200338
+SHUFFLE	COMPRESS_BYTE_COUNT	174264
+SHUFFLE	COPY_MAP_DATA	35742000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1187588
+SHUFFLE	COMPRESS_BYTE_COUNT	172472
+SHUFFLE	COPY_MAP_DATA	40615000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1197686
+SHUFFLE	COMPRESS_BYTE_COUNT	173834
+SHUFFLE	COPY_MAP_DATA	67304000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1195340
+SHUFFLE	COMPRESS_BYTE_COUNT	173542
+SHUFFLE	COPY_MAP_DATA	13920000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1216250
+SHUFFLE	COMPRESS_BYTE_COUNT	176664
+SHUFFLE	COPY_MAP_DATA	12677000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1192688
+SHUFFLE	COMPRESS_BYTE_COUNT	173061
+SHUFFLE	COPY_MAP_DATA	13206000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1208498
+SHUFFLE	COMPRESS_BYTE_COUNT	175431
+SHUFFLE	COPY_MAP_DATA	15175000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1194524
+SHUFFLE	COMPRESS_BYTE_COUNT	173464
+SHUFFLE	COPY_MAP_DATA	13921000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1191668
+SHUFFLE	COMPRESS_BYTE_COUNT	173121
+SHUFFLE	COPY_MAP_DATA	12801000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1187690
+SHUFFLE	COMPRESS_BYTE_COUNT	172350
+SHUFFLE	COPY_MAP_DATA	12615000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1192484
+SHUFFLE	COMPRESS_BYTE_COUNT	172986
+SHUFFLE	COPY_MAP_DATA	12309000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1204316
+SHUFFLE	COMPRESS_BYTE_COUNT	174902
+SHUFFLE	COPY_MAP_DATA	331056000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1197278
+SHUFFLE	COMPRESS_BYTE_COUNT	173683
+SHUFFLE	COPY_MAP_DATA	12052000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5061752
+SHUFFLE	COMPRESS_BYTE_COUNT	742373
+SHUFFLE	COPY_MAP_DATA	43135000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1200848
+SHUFFLE	COMPRESS_BYTE_COUNT	174182
+SHUFFLE	COPY_MAP_DATA	14992000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1205846
+SHUFFLE	COMPRESS_BYTE_COUNT	175168
+SHUFFLE	COPY_MAP_DATA	35411000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1192484
+SHUFFLE	COMPRESS_BYTE_COUNT	173078
+SHUFFLE	COPY_MAP_DATA	12119000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1180448
+SHUFFLE	COMPRESS_BYTE_COUNT	171427
+SHUFFLE	COPY_MAP_DATA	12432000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1195850
+SHUFFLE	COMPRESS_BYTE_COUNT	173668
+SHUFFLE	COPY_MAP_DATA	11845000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1217984
+SHUFFLE	COMPRESS_BYTE_COUNT	176634
+SHUFFLE	COPY_MAP_DATA	12461000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1173920
+SHUFFLE	COMPRESS_BYTE_COUNT	170587
+SHUFFLE	COPY_MAP_DATA	12339000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1187894
+SHUFFLE	COMPRESS_BYTE_COUNT	172432
+SHUFFLE	COPY_MAP_DATA	12323000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1203092
+SHUFFLE	COMPRESS_BYTE_COUNT	174752
+SHUFFLE	COPY_MAP_DATA	34838000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1180448
+SHUFFLE	COMPRESS_BYTE_COUNT	171398
+SHUFFLE	COPY_MAP_DATA	12964000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1190036
+SHUFFLE	COMPRESS_BYTE_COUNT	172800
+SHUFFLE	COPY_MAP_DATA	12126000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1189322
+SHUFFLE	COMPRESS_BYTE_COUNT	172624
+SHUFFLE	COPY_MAP_DATA	42213000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1182182
+SHUFFLE	COMPRESS_BYTE_COUNT	171768
+SHUFFLE	COPY_MAP_DATA	11645000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1196156
+SHUFFLE	COMPRESS_BYTE_COUNT	173584
+SHUFFLE	COPY_MAP_DATA	87986000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1209926
+SHUFFLE	COMPRESS_BYTE_COUNT	175628
+SHUFFLE	COPY_MAP_DATA	88954000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1182794
+SHUFFLE	COMPRESS_BYTE_COUNT	171751
+SHUFFLE	COPY_MAP_DATA	11940000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1220840
+SHUFFLE	COMPRESS_BYTE_COUNT	177228
+SHUFFLE	COPY_MAP_DATA	13042000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1191668
+SHUFFLE	COMPRESS_BYTE_COUNT	172916
+SHUFFLE	COPY_MAP_DATA	12095000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1199930
+SHUFFLE	COMPRESS_BYTE_COUNT	174252
+SHUFFLE	COPY_MAP_DATA	17721000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1215740
+SHUFFLE	COMPRESS_BYTE_COUNT	176449
+SHUFFLE	COPY_MAP_DATA	12334000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1168718
+SHUFFLE	COMPRESS_BYTE_COUNT	169577
+SHUFFLE	COPY_MAP_DATA	12019000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1179632
+SHUFFLE	COMPRESS_BYTE_COUNT	171333
+SHUFFLE	COPY_MAP_DATA	11830000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1193708
+SHUFFLE	COMPRESS_BYTE_COUNT	173441
+SHUFFLE	COPY_MAP_DATA	12238000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1199726
+SHUFFLE	COMPRESS_BYTE_COUNT	174090
+SHUFFLE	COPY_MAP_DATA	12527000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1190546
+SHUFFLE	COMPRESS_BYTE_COUNT	172811
+SHUFFLE	COPY_MAP_DATA	12015000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1192382
+SHUFFLE	COMPRESS_BYTE_COUNT	173105
+SHUFFLE	COPY_MAP_DATA	12910000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1194728
+SHUFFLE	COMPRESS_BYTE_COUNT	173507
+SHUFFLE	COPY_MAP_DATA	12583000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1215638
+SHUFFLE	COMPRESS_BYTE_COUNT	176455
+SHUFFLE	COPY_MAP_DATA	12215000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1185752
+SHUFFLE	COMPRESS_BYTE_COUNT	172060
+SHUFFLE	COPY_MAP_DATA	12373000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1213802
+SHUFFLE	COMPRESS_BYTE_COUNT	176149
+SHUFFLE	COPY_MAP_DATA	14933000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	281822767921
+MERGE	READ_WRITE	272595417921
+MERGE	READ_WRITE_COUNT	7
+MERGE	COMBINE	0
+MERGE	WRITE	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	16360086000
+SORT	READ_WRITE	16200924000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	174536272
+REDUCE	SETUP	285000
+REDUCE	SETUP_MEM	174536272
+REDUCE	CLEANUP	39000
+REDUCE	CLEANUP_MEM	191854408
+REDUCE	TOTAL_RUN	171954528000
+REDUCE	READ	23713323000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	89844570000
+REDUCE	WRITE	36296868000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	111285370
+REDUCE	VALUE_BYTE_COUNT	979311256
+REDUCE	REDUCE_MEM	191854408
+REDUCE	WRITE	4594000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	726367986921
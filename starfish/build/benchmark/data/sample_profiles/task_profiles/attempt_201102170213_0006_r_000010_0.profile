@@ -0,0 +1,1229 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5080214
+SHUFFLE	COMPRESS_BYTE_COUNT	745363
+SHUFFLE	COPY_MAP_DATA	70686000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5049308
+SHUFFLE	COMPRESS_BYTE_COUNT	740128
+SHUFFLE	COPY_MAP_DATA	62823000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5102042
+SHUFFLE	COMPRESS_BYTE_COUNT	748210
+SHUFFLE	COPY_MAP_DATA	161183000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5066138
+SHUFFLE	COMPRESS_BYTE_COUNT	743266
+SHUFFLE	COPY_MAP_DATA	106883000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5067158
+SHUFFLE	COMPRESS_BYTE_COUNT	743208
+SHUFFLE	COPY_MAP_DATA	120392000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5065220
+SHUFFLE	COMPRESS_BYTE_COUNT	743290
+SHUFFLE	COPY_MAP_DATA	184721000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5078480
+SHUFFLE	COMPRESS_BYTE_COUNT	744795
+SHUFFLE	COPY_MAP_DATA	137517000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5075420
+SHUFFLE	COMPRESS_BYTE_COUNT	744111
+SHUFFLE	COPY_MAP_DATA	328338000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5082356
+SHUFFLE	COMPRESS_BYTE_COUNT	745387
+SHUFFLE	COPY_MAP_DATA	226301000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5028602
+SHUFFLE	COMPRESS_BYTE_COUNT	737289
+SHUFFLE	COPY_MAP_DATA	208251000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5040332
+SHUFFLE	COMPRESS_BYTE_COUNT	739641
+SHUFFLE	COPY_MAP_DATA	1611520000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5082152
+SHUFFLE	COMPRESS_BYTE_COUNT	745780
+SHUFFLE	COPY_MAP_DATA	50174000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5071238
+SHUFFLE	COMPRESS_BYTE_COUNT	743626
+SHUFFLE	COPY_MAP_DATA	50541000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5058692
+SHUFFLE	COMPRESS_BYTE_COUNT	742311
+SHUFFLE	COPY_MAP_DATA	146650000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5067872
+SHUFFLE	COMPRESS_BYTE_COUNT	743440
+SHUFFLE	COPY_MAP_DATA	65324000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5030132
+SHUFFLE	COMPRESS_BYTE_COUNT	737553
+SHUFFLE	COPY_MAP_DATA	52702000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5041964
+SHUFFLE	COMPRESS_BYTE_COUNT	739308
+SHUFFLE	COPY_MAP_DATA	54780000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5078480
+SHUFFLE	COMPRESS_BYTE_COUNT	744948
+SHUFFLE	COPY_MAP_DATA	190751000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5061956
+SHUFFLE	COMPRESS_BYTE_COUNT	742587
+SHUFFLE	COPY_MAP_DATA	224185000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5061038
+SHUFFLE	COMPRESS_BYTE_COUNT	742327
+SHUFFLE	COPY_MAP_DATA	45973000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5033090
+SHUFFLE	COMPRESS_BYTE_COUNT	738669
+SHUFFLE	COPY_MAP_DATA	174069000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5067566
+SHUFFLE	COMPRESS_BYTE_COUNT	743615
+SHUFFLE	COPY_MAP_DATA	45922000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5058794
+SHUFFLE	COMPRESS_BYTE_COUNT	741990
+SHUFFLE	COPY_MAP_DATA	966008000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5063996
+SHUFFLE	COMPRESS_BYTE_COUNT	742878
+SHUFFLE	COPY_MAP_DATA	101517000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5071544
+SHUFFLE	COMPRESS_BYTE_COUNT	743516
+SHUFFLE	COPY_MAP_DATA	52813000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5063180
+SHUFFLE	COMPRESS_BYTE_COUNT	742511
+SHUFFLE	COPY_MAP_DATA	49191000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5049614
+SHUFFLE	COMPRESS_BYTE_COUNT	740734
+SHUFFLE	COPY_MAP_DATA	3485178000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5060120
+SHUFFLE	COMPRESS_BYTE_COUNT	742577
+SHUFFLE	COPY_MAP_DATA	82922000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5058488
+SHUFFLE	COMPRESS_BYTE_COUNT	741908
+SHUFFLE	COPY_MAP_DATA	48192000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5027582
+SHUFFLE	COMPRESS_BYTE_COUNT	737442
+SHUFFLE	COPY_MAP_DATA	112863000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5032070
+SHUFFLE	COMPRESS_BYTE_COUNT	738225
+SHUFFLE	COPY_MAP_DATA	940609000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5080724
+SHUFFLE	COMPRESS_BYTE_COUNT	745170
+SHUFFLE	COPY_MAP_DATA	1337427000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5071442
+SHUFFLE	COMPRESS_BYTE_COUNT	743705
+SHUFFLE	COPY_MAP_DATA	112699000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5051246
+SHUFFLE	COMPRESS_BYTE_COUNT	741212
+SHUFFLE	COPY_MAP_DATA	43852000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5054102
+SHUFFLE	COMPRESS_BYTE_COUNT	741519
+SHUFFLE	COPY_MAP_DATA	44002000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5058488
+SHUFFLE	COMPRESS_BYTE_COUNT	742388
+SHUFFLE	COPY_MAP_DATA	52503000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5033600
+SHUFFLE	COMPRESS_BYTE_COUNT	738550
+SHUFFLE	COPY_MAP_DATA	196180000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5054918
+SHUFFLE	COMPRESS_BYTE_COUNT	740975
+SHUFFLE	COPY_MAP_DATA	46847000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5058794
+SHUFFLE	COMPRESS_BYTE_COUNT	741803
+SHUFFLE	COPY_MAP_DATA	143647000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5072564
+SHUFFLE	COMPRESS_BYTE_COUNT	743759
+SHUFFLE	COPY_MAP_DATA	137732000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5065832
+SHUFFLE	COMPRESS_BYTE_COUNT	742855
+SHUFFLE	COPY_MAP_DATA	80685000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5065118
+SHUFFLE	COMPRESS_BYTE_COUNT	743320
+SHUFFLE	COPY_MAP_DATA	90411000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5045738
+SHUFFLE	COMPRESS_BYTE_COUNT	740402
+SHUFFLE	COPY_MAP_DATA	488490000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5078378
+SHUFFLE	COMPRESS_BYTE_COUNT	744857
+SHUFFLE	COPY_MAP_DATA	139287000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5051654
+SHUFFLE	COMPRESS_BYTE_COUNT	741335
+SHUFFLE	COPY_MAP_DATA	3043904000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5065424
+SHUFFLE	COMPRESS_BYTE_COUNT	743199
+SHUFFLE	COPY_MAP_DATA	198565000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5079296
+SHUFFLE	COMPRESS_BYTE_COUNT	745444
+SHUFFLE	COPY_MAP_DATA	174016000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5052368
+SHUFFLE	COMPRESS_BYTE_COUNT	741237
+SHUFFLE	COPY_MAP_DATA	49175000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5093066
+SHUFFLE	COMPRESS_BYTE_COUNT	747004
+SHUFFLE	COPY_MAP_DATA	60163000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5052470
+SHUFFLE	COMPRESS_BYTE_COUNT	740970
+SHUFFLE	COPY_MAP_DATA	298903000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5078072
+SHUFFLE	COMPRESS_BYTE_COUNT	744881
+SHUFFLE	COPY_MAP_DATA	781664000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5066954
+SHUFFLE	COMPRESS_BYTE_COUNT	742760
+SHUFFLE	COPY_MAP_DATA	48053000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5095004
+SHUFFLE	COMPRESS_BYTE_COUNT	742584
+SHUFFLE	COPY_MAP_DATA	50005000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5057774
+SHUFFLE	COMPRESS_BYTE_COUNT	742320
+SHUFFLE	COPY_MAP_DATA	48731000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5041862
+SHUFFLE	COMPRESS_BYTE_COUNT	739242
+SHUFFLE	COPY_MAP_DATA	53256000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5073482
+SHUFFLE	COMPRESS_BYTE_COUNT	744044
+SHUFFLE	COPY_MAP_DATA	154053000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5087660
+SHUFFLE	COMPRESS_BYTE_COUNT	746492
+SHUFFLE	COPY_MAP_DATA	199997000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5079398
+SHUFFLE	COMPRESS_BYTE_COUNT	744571
+SHUFFLE	COPY_MAP_DATA	1457099000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5024726
+SHUFFLE	COMPRESS_BYTE_COUNT	736934
+SHUFFLE	COPY_MAP_DATA	117463000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5052980
+SHUFFLE	COMPRESS_BYTE_COUNT	741385
+SHUFFLE	COPY_MAP_DATA	59415000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5049716
+SHUFFLE	COMPRESS_BYTE_COUNT	740922
+SHUFFLE	COPY_MAP_DATA	47230000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5042168
+SHUFFLE	COMPRESS_BYTE_COUNT	739913
+SHUFFLE	COPY_MAP_DATA	1200846000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5074502
+SHUFFLE	COMPRESS_BYTE_COUNT	744186
+SHUFFLE	COPY_MAP_DATA	3337372000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5045024
+SHUFFLE	COMPRESS_BYTE_COUNT	739811
+SHUFFLE	COPY_MAP_DATA	3060895000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5064812
+SHUFFLE	COMPRESS_BYTE_COUNT	743276
+SHUFFLE	COPY_MAP_DATA	285385000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5059610
+SHUFFLE	COMPRESS_BYTE_COUNT	742035
+SHUFFLE	COPY_MAP_DATA	142644000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5062874
+SHUFFLE	COMPRESS_BYTE_COUNT	742559
+SHUFFLE	COPY_MAP_DATA	78083000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5070014
+SHUFFLE	COMPRESS_BYTE_COUNT	744161
+SHUFFLE	COPY_MAP_DATA	46321000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5074808
+SHUFFLE	COMPRESS_BYTE_COUNT	744548
+SHUFFLE	COPY_MAP_DATA	3742969000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5056856
+SHUFFLE	COMPRESS_BYTE_COUNT	741530
+SHUFFLE	COPY_MAP_DATA	2553762000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5083376
+SHUFFLE	COMPRESS_BYTE_COUNT	746088
+SHUFFLE	COPY_MAP_DATA	5699631000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5059100
+SHUFFLE	COMPRESS_BYTE_COUNT	742111
+SHUFFLE	COPY_MAP_DATA	47815000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5061446
+SHUFFLE	COMPRESS_BYTE_COUNT	742190
+SHUFFLE	COPY_MAP_DATA	216510000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5066138
+SHUFFLE	COMPRESS_BYTE_COUNT	742802
+SHUFFLE	COPY_MAP_DATA	120537000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5091026
+SHUFFLE	COMPRESS_BYTE_COUNT	746240
+SHUFFLE	COPY_MAP_DATA	75867000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5057672
+SHUFFLE	COMPRESS_BYTE_COUNT	742543
+SHUFFLE	COPY_MAP_DATA	47341000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5028296
+SHUFFLE	COMPRESS_BYTE_COUNT	737851
+SHUFFLE	COPY_MAP_DATA	61547000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5091026
+SHUFFLE	COMPRESS_BYTE_COUNT	746830
+SHUFFLE	COPY_MAP_DATA	46002000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5041760
+SHUFFLE	COMPRESS_BYTE_COUNT	739141
+SHUFFLE	COPY_MAP_DATA	2190172000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5085926
+SHUFFLE	COMPRESS_BYTE_COUNT	746194
+SHUFFLE	COPY_MAP_DATA	60330000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5085212
+SHUFFLE	COMPRESS_BYTE_COUNT	746052
+SHUFFLE	COPY_MAP_DATA	51205000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5038904
+SHUFFLE	COMPRESS_BYTE_COUNT	739293
+SHUFFLE	COPY_MAP_DATA	62887000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5061140
+SHUFFLE	COMPRESS_BYTE_COUNT	742246
+SHUFFLE	COPY_MAP_DATA	8788828000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5060936
+SHUFFLE	COMPRESS_BYTE_COUNT	742299
+SHUFFLE	COPY_MAP_DATA	98010000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5097044
+SHUFFLE	COMPRESS_BYTE_COUNT	747395
+SHUFFLE	COPY_MAP_DATA	68016000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5044106
+SHUFFLE	COMPRESS_BYTE_COUNT	739681
+SHUFFLE	COPY_MAP_DATA	49524000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5063894
+SHUFFLE	COMPRESS_BYTE_COUNT	742545
+SHUFFLE	COPY_MAP_DATA	3007222000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5071442
+SHUFFLE	COMPRESS_BYTE_COUNT	743641
+SHUFFLE	COPY_MAP_DATA	65361000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5035742
+SHUFFLE	COMPRESS_BYTE_COUNT	738603
+SHUFFLE	COPY_MAP_DATA	543562000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5062772
+SHUFFLE	COMPRESS_BYTE_COUNT	742759
+SHUFFLE	COPY_MAP_DATA	47442000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5035436
+SHUFFLE	COMPRESS_BYTE_COUNT	738264
+SHUFFLE	COPY_MAP_DATA	202946000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5064404
+SHUFFLE	COMPRESS_BYTE_COUNT	742504
+SHUFFLE	COPY_MAP_DATA	1577219000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5085926
+SHUFFLE	COMPRESS_BYTE_COUNT	745985
+SHUFFLE	COPY_MAP_DATA	76640000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5049818
+SHUFFLE	COMPRESS_BYTE_COUNT	740858
+SHUFFLE	COPY_MAP_DATA	104302000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5052470
+SHUFFLE	COMPRESS_BYTE_COUNT	741426
+SHUFFLE	COPY_MAP_DATA	47453000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5093474
+SHUFFLE	COMPRESS_BYTE_COUNT	747367
+SHUFFLE	COPY_MAP_DATA	387311000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5121524
+SHUFFLE	COMPRESS_BYTE_COUNT	750588
+SHUFFLE	COPY_MAP_DATA	47093000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5035538
+SHUFFLE	COMPRESS_BYTE_COUNT	738410
+SHUFFLE	COPY_MAP_DATA	45512000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5048900
+SHUFFLE	COMPRESS_BYTE_COUNT	740396
+SHUFFLE	COPY_MAP_DATA	46405000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5095208
+SHUFFLE	COMPRESS_BYTE_COUNT	747232
+SHUFFLE	COPY_MAP_DATA	152927000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5071136
+SHUFFLE	COMPRESS_BYTE_COUNT	744123
+SHUFFLE	COPY_MAP_DATA	45718000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5074094
+SHUFFLE	COMPRESS_BYTE_COUNT	744449
+SHUFFLE	COPY_MAP_DATA	50251000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5083478
+SHUFFLE	COMPRESS_BYTE_COUNT	745921
+SHUFFLE	COPY_MAP_DATA	58292000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5050430
+SHUFFLE	COMPRESS_BYTE_COUNT	740911
+SHUFFLE	COPY_MAP_DATA	46254000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5044514
+SHUFFLE	COMPRESS_BYTE_COUNT	739694
+SHUFFLE	COPY_MAP_DATA	511714000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5041046
+SHUFFLE	COMPRESS_BYTE_COUNT	739829
+SHUFFLE	COPY_MAP_DATA	505257000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5075930
+SHUFFLE	COMPRESS_BYTE_COUNT	744642
+SHUFFLE	COPY_MAP_DATA	1232891000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5061548
+SHUFFLE	COMPRESS_BYTE_COUNT	742250
+SHUFFLE	COPY_MAP_DATA	46900000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5042474
+SHUFFLE	COMPRESS_BYTE_COUNT	739810
+SHUFFLE	COPY_MAP_DATA	191005000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5051960
+SHUFFLE	COMPRESS_BYTE_COUNT	741231
+SHUFFLE	COPY_MAP_DATA	304835000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5063282
+SHUFFLE	COMPRESS_BYTE_COUNT	742420
+SHUFFLE	COPY_MAP_DATA	238038000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5052368
+SHUFFLE	COMPRESS_BYTE_COUNT	741164
+SHUFFLE	COPY_MAP_DATA	93736000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5079092
+SHUFFLE	COMPRESS_BYTE_COUNT	744842
+SHUFFLE	COPY_MAP_DATA	52051000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5055428
+SHUFFLE	COMPRESS_BYTE_COUNT	741717
+SHUFFLE	COPY_MAP_DATA	85484000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5032988
+SHUFFLE	COMPRESS_BYTE_COUNT	738065
+SHUFFLE	COPY_MAP_DATA	51691000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5048798
+SHUFFLE	COMPRESS_BYTE_COUNT	741038
+SHUFFLE	COPY_MAP_DATA	49638000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5090108
+SHUFFLE	COMPRESS_BYTE_COUNT	746363
+SHUFFLE	COPY_MAP_DATA	100534000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5090822
+SHUFFLE	COMPRESS_BYTE_COUNT	746712
+SHUFFLE	COPY_MAP_DATA	53518000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5077868
+SHUFFLE	COMPRESS_BYTE_COUNT	744532
+SHUFFLE	COPY_MAP_DATA	47750000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5047676
+SHUFFLE	COMPRESS_BYTE_COUNT	740649
+SHUFFLE	COPY_MAP_DATA	266469000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5031560
+SHUFFLE	COMPRESS_BYTE_COUNT	738097
+SHUFFLE	COPY_MAP_DATA	64055000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5055224
+SHUFFLE	COMPRESS_BYTE_COUNT	741384
+SHUFFLE	COPY_MAP_DATA	3284628000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5086130
+SHUFFLE	COMPRESS_BYTE_COUNT	746028
+SHUFFLE	COPY_MAP_DATA	756878000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5060630
+SHUFFLE	COMPRESS_BYTE_COUNT	741900
+SHUFFLE	COPY_MAP_DATA	47572000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5062874
+SHUFFLE	COMPRESS_BYTE_COUNT	742420
+SHUFFLE	COPY_MAP_DATA	66331000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5080418
+SHUFFLE	COMPRESS_BYTE_COUNT	745332
+SHUFFLE	COPY_MAP_DATA	46235000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5100818
+SHUFFLE	COMPRESS_BYTE_COUNT	748230
+SHUFFLE	COPY_MAP_DATA	451883000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5021870
+SHUFFLE	COMPRESS_BYTE_COUNT	736951
+SHUFFLE	COPY_MAP_DATA	1763807000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5060018
+SHUFFLE	COMPRESS_BYTE_COUNT	742752
+SHUFFLE	COPY_MAP_DATA	95067000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5030336
+SHUFFLE	COMPRESS_BYTE_COUNT	738129
+SHUFFLE	COPY_MAP_DATA	72222000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5045636
+SHUFFLE	COMPRESS_BYTE_COUNT	740285
+SHUFFLE	COPY_MAP_DATA	98018000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5075318
+SHUFFLE	COMPRESS_BYTE_COUNT	744592
+SHUFFLE	COPY_MAP_DATA	48589000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5046758
+SHUFFLE	COMPRESS_BYTE_COUNT	740352
+SHUFFLE	COPY_MAP_DATA	337017000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5050226
+SHUFFLE	COMPRESS_BYTE_COUNT	740525
+SHUFFLE	COPY_MAP_DATA	67887000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5057264
+SHUFFLE	COMPRESS_BYTE_COUNT	741584
+SHUFFLE	COPY_MAP_DATA	88950000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5065832
+SHUFFLE	COMPRESS_BYTE_COUNT	742740
+SHUFFLE	COPY_MAP_DATA	1161882000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5072462
+SHUFFLE	COMPRESS_BYTE_COUNT	737126
+SHUFFLE	COPY_MAP_DATA	63908000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5067872
+SHUFFLE	COMPRESS_BYTE_COUNT	743565
+SHUFFLE	COPY_MAP_DATA	1918478000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5052572
+SHUFFLE	COMPRESS_BYTE_COUNT	741488
+SHUFFLE	COPY_MAP_DATA	48181000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5015852
+SHUFFLE	COMPRESS_BYTE_COUNT	735467
+SHUFFLE	COPY_MAP_DATA	179995000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5110202
+SHUFFLE	COMPRESS_BYTE_COUNT	749405
+SHUFFLE	COPY_MAP_DATA	824814000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5044004
+SHUFFLE	COMPRESS_BYTE_COUNT	739899
+SHUFFLE	COPY_MAP_DATA	83354000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5088272
+SHUFFLE	COMPRESS_BYTE_COUNT	745685
+SHUFFLE	COPY_MAP_DATA	49038000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5088272
+SHUFFLE	COMPRESS_BYTE_COUNT	746555
+SHUFFLE	COPY_MAP_DATA	64281000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1179428
+SHUFFLE	COMPRESS_BYTE_COUNT	171101
+SHUFFLE	COPY_MAP_DATA	36832000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5055938
+SHUFFLE	COMPRESS_BYTE_COUNT	741251
+SHUFFLE	COPY_MAP_DATA	315014000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5077664
+SHUFFLE	COMPRESS_BYTE_COUNT	744600
+SHUFFLE	COPY_MAP_DATA	44186000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1187486
+SHUFFLE	COMPRESS_BYTE_COUNT	172335
+SHUFFLE	COPY_MAP_DATA	649580000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5061854
+SHUFFLE	COMPRESS_BYTE_COUNT	742359
+SHUFFLE	COPY_MAP_DATA	86948000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5055632
+SHUFFLE	COMPRESS_BYTE_COUNT	741922
+SHUFFLE	COPY_MAP_DATA	12531962000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5049818
+SHUFFLE	COMPRESS_BYTE_COUNT	741164
+SHUFFLE	COPY_MAP_DATA	48215000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1217882
+SHUFFLE	COMPRESS_BYTE_COUNT	176854
+SHUFFLE	COPY_MAP_DATA	19701000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5033192
+SHUFFLE	COMPRESS_BYTE_COUNT	738597
+SHUFFLE	COPY_MAP_DATA	417194000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5053694
+SHUFFLE	COMPRESS_BYTE_COUNT	741522
+SHUFFLE	COPY_MAP_DATA	139805000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5085416
+SHUFFLE	COMPRESS_BYTE_COUNT	745971
+SHUFFLE	COPY_MAP_DATA	6469781000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5035742
+SHUFFLE	COMPRESS_BYTE_COUNT	739293
+SHUFFLE	COPY_MAP_DATA	56854000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1206662
+SHUFFLE	COMPRESS_BYTE_COUNT	175115
+SHUFFLE	COPY_MAP_DATA	13535000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5084906
+SHUFFLE	COMPRESS_BYTE_COUNT	745623
+SHUFFLE	COPY_MAP_DATA	44244000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5055632
+SHUFFLE	COMPRESS_BYTE_COUNT	741534
+SHUFFLE	COPY_MAP_DATA	44599000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5087048
+SHUFFLE	COMPRESS_BYTE_COUNT	746081
+SHUFFLE	COPY_MAP_DATA	45033000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5038190
+SHUFFLE	COMPRESS_BYTE_COUNT	739156
+SHUFFLE	COPY_MAP_DATA	43678000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1190240
+SHUFFLE	COMPRESS_BYTE_COUNT	172751
+SHUFFLE	COPY_MAP_DATA	12476000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5041148
+SHUFFLE	COMPRESS_BYTE_COUNT	739135
+SHUFFLE	COPY_MAP_DATA	479809000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5080928
+SHUFFLE	COMPRESS_BYTE_COUNT	744942
+SHUFFLE	COPY_MAP_DATA	156901000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5062568
+SHUFFLE	COMPRESS_BYTE_COUNT	742530
+SHUFFLE	COPY_MAP_DATA	1507155000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5066546
+SHUFFLE	COMPRESS_BYTE_COUNT	743116
+SHUFFLE	COPY_MAP_DATA	260667000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5083784
+SHUFFLE	COMPRESS_BYTE_COUNT	745909
+SHUFFLE	COPY_MAP_DATA	75783000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5087252
+SHUFFLE	COMPRESS_BYTE_COUNT	746074
+SHUFFLE	COPY_MAP_DATA	296294000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5060426
+SHUFFLE	COMPRESS_BYTE_COUNT	742699
+SHUFFLE	COPY_MAP_DATA	118593000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5074502
+SHUFFLE	COMPRESS_BYTE_COUNT	744204
+SHUFFLE	COPY_MAP_DATA	4656474000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1201664
+SHUFFLE	COMPRESS_BYTE_COUNT	174501
+SHUFFLE	COPY_MAP_DATA	13721000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5063996
+SHUFFLE	COMPRESS_BYTE_COUNT	742631
+SHUFFLE	COPY_MAP_DATA	1135738000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5027582
+SHUFFLE	COMPRESS_BYTE_COUNT	737799
+SHUFFLE	COPY_MAP_DATA	8631651000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1180448
+SHUFFLE	COMPRESS_BYTE_COUNT	171361
+SHUFFLE	COPY_MAP_DATA	4153649000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5040026
+SHUFFLE	COMPRESS_BYTE_COUNT	739549
+SHUFFLE	COPY_MAP_DATA	48947000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1210028
+SHUFFLE	COMPRESS_BYTE_COUNT	175585
+SHUFFLE	COPY_MAP_DATA	14065000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5040536
+SHUFFLE	COMPRESS_BYTE_COUNT	739404
+SHUFFLE	COPY_MAP_DATA	50020000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5030744
+SHUFFLE	COMPRESS_BYTE_COUNT	737963
+SHUFFLE	COPY_MAP_DATA	48102000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5072360
+SHUFFLE	COMPRESS_BYTE_COUNT	744302
+SHUFFLE	COPY_MAP_DATA	252931000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5047370
+SHUFFLE	COMPRESS_BYTE_COUNT	740828
+SHUFFLE	COPY_MAP_DATA	514472000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5058692
+SHUFFLE	COMPRESS_BYTE_COUNT	742072
+SHUFFLE	COPY_MAP_DATA	11070483000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1176470
+SHUFFLE	COMPRESS_BYTE_COUNT	170872
+SHUFFLE	COPY_MAP_DATA	262637000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5088884
+SHUFFLE	COMPRESS_BYTE_COUNT	746288
+SHUFFLE	COPY_MAP_DATA	243015000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5105306
+SHUFFLE	COMPRESS_BYTE_COUNT	748504
+SHUFFLE	COPY_MAP_DATA	4660524000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1178102
+SHUFFLE	COMPRESS_BYTE_COUNT	170948
+SHUFFLE	COPY_MAP_DATA	694481000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5034212
+SHUFFLE	COMPRESS_BYTE_COUNT	738674
+SHUFFLE	COPY_MAP_DATA	105772000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5104796
+SHUFFLE	COMPRESS_BYTE_COUNT	748887
+SHUFFLE	COPY_MAP_DATA	489677000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1191260
+SHUFFLE	COMPRESS_BYTE_COUNT	172909
+SHUFFLE	COPY_MAP_DATA	12828000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5051858
+SHUFFLE	COMPRESS_BYTE_COUNT	740962
+SHUFFLE	COPY_MAP_DATA	1680271000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5049716
+SHUFFLE	COMPRESS_BYTE_COUNT	740963
+SHUFFLE	COPY_MAP_DATA	74502000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1184528
+SHUFFLE	COMPRESS_BYTE_COUNT	171885
+SHUFFLE	COPY_MAP_DATA	15155000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5054408
+SHUFFLE	COMPRESS_BYTE_COUNT	741357
+SHUFFLE	COPY_MAP_DATA	584276000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1192280
+SHUFFLE	COMPRESS_BYTE_COUNT	173103
+SHUFFLE	COPY_MAP_DATA	14084000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1183508
+SHUFFLE	COMPRESS_BYTE_COUNT	171658
+SHUFFLE	COPY_MAP_DATA	13239000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5070116
+SHUFFLE	COMPRESS_BYTE_COUNT	743468
+SHUFFLE	COPY_MAP_DATA	44499000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1179428
+SHUFFLE	COMPRESS_BYTE_COUNT	171245
+SHUFFLE	COPY_MAP_DATA	38174000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5061548
+SHUFFLE	COMPRESS_BYTE_COUNT	742648
+SHUFFLE	COPY_MAP_DATA	46155000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1186466
+SHUFFLE	COMPRESS_BYTE_COUNT	172198
+SHUFFLE	COPY_MAP_DATA	27374000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1182692
+SHUFFLE	COMPRESS_BYTE_COUNT	171670
+SHUFFLE	COPY_MAP_DATA	12620000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1164434
+SHUFFLE	COMPRESS_BYTE_COUNT	168964
+SHUFFLE	COPY_MAP_DATA	10993000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1173716
+SHUFFLE	COMPRESS_BYTE_COUNT	170279
+SHUFFLE	COPY_MAP_DATA	13313000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1187588
+SHUFFLE	COMPRESS_BYTE_COUNT	172293
+SHUFFLE	COPY_MAP_DATA	2489975000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1189526
+SHUFFLE	COMPRESS_BYTE_COUNT	172683
+SHUFFLE	COPY_MAP_DATA	18457000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5049206
+SHUFFLE	COMPRESS_BYTE_COUNT	740962
+SHUFFLE	COPY_MAP_DATA	49660000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5031764
+SHUFFLE	COMPRESS_BYTE_COUNT	738349
+SHUFFLE	COPY_MAP_DATA	103545000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5076032
+SHUFFLE	COMPRESS_BYTE_COUNT	744798
+SHUFFLE	COPY_MAP_DATA	49625000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5091638
+SHUFFLE	COMPRESS_BYTE_COUNT	746945
+SHUFFLE	COPY_MAP_DATA	115094000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5051552
+SHUFFLE	COMPRESS_BYTE_COUNT	740862
+SHUFFLE	COPY_MAP_DATA	492107000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1187588
+SHUFFLE	COMPRESS_BYTE_COUNT	172273
+SHUFFLE	COPY_MAP_DATA	13268000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5090210
+SHUFFLE	COMPRESS_BYTE_COUNT	746811
+SHUFFLE	COPY_MAP_DATA	43964000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1201664
+SHUFFLE	COMPRESS_BYTE_COUNT	174400
+SHUFFLE	COPY_MAP_DATA	10312583000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1205132
+SHUFFLE	COMPRESS_BYTE_COUNT	174809
+SHUFFLE	COPY_MAP_DATA	29420000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5001164
+SHUFFLE	COMPRESS_BYTE_COUNT	733868
+SHUFFLE	COPY_MAP_DATA	4822422000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1190444
+SHUFFLE	COMPRESS_BYTE_COUNT	172671
+SHUFFLE	COPY_MAP_DATA	123050000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5011670
+SHUFFLE	COMPRESS_BYTE_COUNT	734774
+SHUFFLE	COPY_MAP_DATA	141062000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1185242
+SHUFFLE	COMPRESS_BYTE_COUNT	171927
+SHUFFLE	COPY_MAP_DATA	71622000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1173410
+SHUFFLE	COMPRESS_BYTE_COUNT	170323
+SHUFFLE	COPY_MAP_DATA	15117000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1194830
+SHUFFLE	COMPRESS_BYTE_COUNT	173501
+SHUFFLE	COPY_MAP_DATA	12860000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1179122
+SHUFFLE	COMPRESS_BYTE_COUNT	171155
+SHUFFLE	COPY_MAP_DATA	105521000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5062160
+SHUFFLE	COMPRESS_BYTE_COUNT	742073
+SHUFFLE	COPY_MAP_DATA	48230000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1181060
+SHUFFLE	COMPRESS_BYTE_COUNT	171449
+SHUFFLE	COPY_MAP_DATA	982982000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1188506
+SHUFFLE	COMPRESS_BYTE_COUNT	172401
+SHUFFLE	COPY_MAP_DATA	214727000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1183304
+SHUFFLE	COMPRESS_BYTE_COUNT	171769
+SHUFFLE	COPY_MAP_DATA	12870000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1166270
+SHUFFLE	COMPRESS_BYTE_COUNT	169375
+SHUFFLE	COPY_MAP_DATA	433719000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5081846
+SHUFFLE	COMPRESS_BYTE_COUNT	745383
+SHUFFLE	COPY_MAP_DATA	153614000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1189832
+SHUFFLE	COMPRESS_BYTE_COUNT	172703
+SHUFFLE	COPY_MAP_DATA	13785000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1179632
+SHUFFLE	COMPRESS_BYTE_COUNT	171248
+SHUFFLE	COPY_MAP_DATA	12905000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1178102
+SHUFFLE	COMPRESS_BYTE_COUNT	170959
+SHUFFLE	COPY_MAP_DATA	13587000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1193810
+SHUFFLE	COMPRESS_BYTE_COUNT	173197
+SHUFFLE	COPY_MAP_DATA	466548000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5019626
+SHUFFLE	COMPRESS_BYTE_COUNT	736325
+SHUFFLE	COPY_MAP_DATA	67617000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1192790
+SHUFFLE	COMPRESS_BYTE_COUNT	173288
+SHUFFLE	COPY_MAP_DATA	12367000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5080214
+SHUFFLE	COMPRESS_BYTE_COUNT	745275
+SHUFFLE	COPY_MAP_DATA	685403000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1192892
+SHUFFLE	COMPRESS_BYTE_COUNT	173076
+SHUFFLE	COPY_MAP_DATA	13054000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1200134
+SHUFFLE	COMPRESS_BYTE_COUNT	174216
+SHUFFLE	COPY_MAP_DATA	202234000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1180244
+SHUFFLE	COMPRESS_BYTE_COUNT	171390
+SHUFFLE	COPY_MAP_DATA	12868000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1170860
+SHUFFLE	COMPRESS_BYTE_COUNT	170038
+SHUFFLE	COPY_MAP_DATA	11939000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1187690
+SHUFFLE	COMPRESS_BYTE_COUNT	172290
+SHUFFLE	COPY_MAP_DATA	1391536000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1201052
+SHUFFLE	COMPRESS_BYTE_COUNT	174050
+SHUFFLE	COPY_MAP_DATA	636978000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1187792
+SHUFFLE	COMPRESS_BYTE_COUNT	172540
+SHUFFLE	COPY_MAP_DATA	76260000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1170656
+SHUFFLE	COMPRESS_BYTE_COUNT	169950
+SHUFFLE	COPY_MAP_DATA	26555000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1183610
+SHUFFLE	COMPRESS_BYTE_COUNT	171739
+SHUFFLE	COPY_MAP_DATA	14479000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5061956
+SHUFFLE	COMPRESS_BYTE_COUNT	742399
+SHUFFLE	COPY_MAP_DATA	46281000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1211150
+SHUFFLE	COMPRESS_BYTE_COUNT	175784
+SHUFFLE	COPY_MAP_DATA	24907000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1176266
+SHUFFLE	COMPRESS_BYTE_COUNT	170848
+SHUFFLE	COPY_MAP_DATA	333951000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1155866
+SHUFFLE	COMPRESS_BYTE_COUNT	167996
+SHUFFLE	COPY_MAP_DATA	13599000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5074910
+SHUFFLE	COMPRESS_BYTE_COUNT	744446
+SHUFFLE	COPY_MAP_DATA	62416000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1196870
+SHUFFLE	COMPRESS_BYTE_COUNT	173812
+SHUFFLE	COPY_MAP_DATA	13190000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1194218
+SHUFFLE	COMPRESS_BYTE_COUNT	173326
+SHUFFLE	COPY_MAP_DATA	12311000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1201562
+SHUFFLE	COMPRESS_BYTE_COUNT	174389
+SHUFFLE	COPY_MAP_DATA	12692000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5024930
+SHUFFLE	COMPRESS_BYTE_COUNT	737050
+SHUFFLE	COPY_MAP_DATA	162945000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1186568
+SHUFFLE	COMPRESS_BYTE_COUNT	172277
+SHUFFLE	COPY_MAP_DATA	12059000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5073788
+SHUFFLE	COMPRESS_BYTE_COUNT	744368
+SHUFFLE	COPY_MAP_DATA	140451000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1172798
+SHUFFLE	COMPRESS_BYTE_COUNT	170291
+SHUFFLE	COPY_MAP_DATA	13184000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5041250
+SHUFFLE	COMPRESS_BYTE_COUNT	739540
+SHUFFLE	COPY_MAP_DATA	374253000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1182386
+SHUFFLE	COMPRESS_BYTE_COUNT	171605
+SHUFFLE	COPY_MAP_DATA	13397000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1180448
+SHUFFLE	COMPRESS_BYTE_COUNT	171234
+SHUFFLE	COPY_MAP_DATA	12353000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1183814
+SHUFFLE	COMPRESS_BYTE_COUNT	171694
+SHUFFLE	COPY_MAP_DATA	12724000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1181060
+SHUFFLE	COMPRESS_BYTE_COUNT	171362
+SHUFFLE	COPY_MAP_DATA	12910000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1204520
+SHUFFLE	COMPRESS_BYTE_COUNT	174838
+SHUFFLE	COPY_MAP_DATA	145912000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1195442
+SHUFFLE	COMPRESS_BYTE_COUNT	173604
+SHUFFLE	COPY_MAP_DATA	397678000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1205642
+SHUFFLE	COMPRESS_BYTE_COUNT	175073
+SHUFFLE	COPY_MAP_DATA	14330000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1172798
+SHUFFLE	COMPRESS_BYTE_COUNT	170404
+SHUFFLE	COPY_MAP_DATA	13170000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1214210
+SHUFFLE	COMPRESS_BYTE_COUNT	176162
+SHUFFLE	COPY_MAP_DATA	359059000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1209314
+SHUFFLE	COMPRESS_BYTE_COUNT	175497
+SHUFFLE	COPY_MAP_DATA	13126000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5079908
+SHUFFLE	COMPRESS_BYTE_COUNT	744998
+SHUFFLE	COPY_MAP_DATA	178665000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1195238
+SHUFFLE	COMPRESS_BYTE_COUNT	173496
+SHUFFLE	COPY_MAP_DATA	13755000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1187894
+SHUFFLE	COMPRESS_BYTE_COUNT	172437
+SHUFFLE	COPY_MAP_DATA	12681000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1191566
+SHUFFLE	COMPRESS_BYTE_COUNT	172759
+SHUFFLE	COPY_MAP_DATA	13765000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1192178
+SHUFFLE	COMPRESS_BYTE_COUNT	173071
+SHUFFLE	COPY_MAP_DATA	12562000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1205948
+SHUFFLE	COMPRESS_BYTE_COUNT	175074
+SHUFFLE	COPY_MAP_DATA	419156000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1170656
+SHUFFLE	COMPRESS_BYTE_COUNT	169911
+SHUFFLE	COPY_MAP_DATA	19316000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1203194
+SHUFFLE	COMPRESS_BYTE_COUNT	174577
+SHUFFLE	COPY_MAP_DATA	13358000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1163720
+SHUFFLE	COMPRESS_BYTE_COUNT	168950
+SHUFFLE	COPY_MAP_DATA	12645000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1196666
+SHUFFLE	COMPRESS_BYTE_COUNT	173544
+SHUFFLE	COPY_MAP_DATA	13122000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1195544
+SHUFFLE	COMPRESS_BYTE_COUNT	173587
+SHUFFLE	COPY_MAP_DATA	12462000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1190954
+SHUFFLE	COMPRESS_BYTE_COUNT	172910
+SHUFFLE	COPY_MAP_DATA	29296000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1175144
+SHUFFLE	COMPRESS_BYTE_COUNT	170547
+SHUFFLE	COPY_MAP_DATA	11994000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1196156
+SHUFFLE	COMPRESS_BYTE_COUNT	173545
+SHUFFLE	COPY_MAP_DATA	11855000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1185752
+SHUFFLE	COMPRESS_BYTE_COUNT	171866
+SHUFFLE	COPY_MAP_DATA	13208000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1180652
+SHUFFLE	COMPRESS_BYTE_COUNT	171304
+SHUFFLE	COPY_MAP_DATA	13575000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1181060
+SHUFFLE	COMPRESS_BYTE_COUNT	171398
+SHUFFLE	COPY_MAP_DATA	48719000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1190546
+SHUFFLE	COMPRESS_BYTE_COUNT	172808
+SHUFFLE	COPY_MAP_DATA	14297000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1197278
+SHUFFLE	COMPRESS_BYTE_COUNT	173766
+SHUFFLE	COPY_MAP_DATA	12035000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1217678
+SHUFFLE	COMPRESS_BYTE_COUNT	176524
+SHUFFLE	COPY_MAP_DATA	12006000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1202786
+SHUFFLE	COMPRESS_BYTE_COUNT	174470
+SHUFFLE	COPY_MAP_DATA	11824000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1190138
+SHUFFLE	COMPRESS_BYTE_COUNT	172786
+SHUFFLE	COPY_MAP_DATA	11638000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1186364
+SHUFFLE	COMPRESS_BYTE_COUNT	172158
+SHUFFLE	COPY_MAP_DATA	12705000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1172288
+SHUFFLE	COMPRESS_BYTE_COUNT	170056
+SHUFFLE	COPY_MAP_DATA	12350000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1195544
+SHUFFLE	COMPRESS_BYTE_COUNT	173773
+SHUFFLE	COPY_MAP_DATA	86197000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1195748
+SHUFFLE	COMPRESS_BYTE_COUNT	173587
+SHUFFLE	COPY_MAP_DATA	12753000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1187792
+SHUFFLE	COMPRESS_BYTE_COUNT	172418
+SHUFFLE	COPY_MAP_DATA	12132000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1195544
+SHUFFLE	COMPRESS_BYTE_COUNT	173519
+SHUFFLE	COPY_MAP_DATA	18765000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1189628
+SHUFFLE	COMPRESS_BYTE_COUNT	172661
+SHUFFLE	COPY_MAP_DATA	12815000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1198094
+SHUFFLE	COMPRESS_BYTE_COUNT	174062
+SHUFFLE	COPY_MAP_DATA	17494000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1199522
+SHUFFLE	COMPRESS_BYTE_COUNT	174089
+SHUFFLE	COPY_MAP_DATA	12050000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1195646
+SHUFFLE	COMPRESS_BYTE_COUNT	173423
+SHUFFLE	COPY_MAP_DATA	12065000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1189730
+SHUFFLE	COMPRESS_BYTE_COUNT	172525
+SHUFFLE	COPY_MAP_DATA	11990000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1180346
+SHUFFLE	COMPRESS_BYTE_COUNT	171277
+SHUFFLE	COPY_MAP_DATA	35791000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1178714
+SHUFFLE	COMPRESS_BYTE_COUNT	171130
+SHUFFLE	COPY_MAP_DATA	569118000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1200032
+SHUFFLE	COMPRESS_BYTE_COUNT	174162
+SHUFFLE	COPY_MAP_DATA	71936000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	253468511000
+MERGE	READ_WRITE	242664821000
+MERGE	READ_WRITE_COUNT	7
+MERGE	COMBINE	0
+MERGE	WRITE	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	18006685000
+SORT	READ_WRITE	17855006000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	161442288
+REDUCE	SETUP	329000
+REDUCE	SETUP_MEM	161442288
+REDUCE	CLEANUP	39000
+REDUCE	CLEANUP_MEM	203414472
+REDUCE	TOTAL_RUN	179791961000
+REDUCE	READ	23735789000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	96173991000
+REDUCE	WRITE	42971308000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	110904010
+REDUCE	VALUE_BYTE_COUNT	975955288
+REDUCE	REDUCE_MEM	203416520
+REDUCE	WRITE	1150919000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	739262961000
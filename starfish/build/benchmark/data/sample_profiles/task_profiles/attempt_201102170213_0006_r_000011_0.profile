@@ -0,0 +1,1229 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5137232
+SHUFFLE	COMPRESS_BYTE_COUNT	753679
+SHUFFLE	COPY_MAP_DATA	2076968000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5146106
+SHUFFLE	COMPRESS_BYTE_COUNT	755185
+SHUFFLE	COPY_MAP_DATA	55723000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5136110
+SHUFFLE	COMPRESS_BYTE_COUNT	752912
+SHUFFLE	COPY_MAP_DATA	85635000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5136314
+SHUFFLE	COMPRESS_BYTE_COUNT	753265
+SHUFFLE	COPY_MAP_DATA	140933000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5117036
+SHUFFLE	COMPRESS_BYTE_COUNT	749844
+SHUFFLE	COPY_MAP_DATA	88347000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5132744
+SHUFFLE	COMPRESS_BYTE_COUNT	752656
+SHUFFLE	COPY_MAP_DATA	152626000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5181704
+SHUFFLE	COMPRESS_BYTE_COUNT	760120
+SHUFFLE	COPY_MAP_DATA	145240000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5121014
+SHUFFLE	COMPRESS_BYTE_COUNT	751517
+SHUFFLE	COPY_MAP_DATA	60253000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5137334
+SHUFFLE	COMPRESS_BYTE_COUNT	753220
+SHUFFLE	COPY_MAP_DATA	98593000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5141822
+SHUFFLE	COMPRESS_BYTE_COUNT	754388
+SHUFFLE	COPY_MAP_DATA	49869000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5135702
+SHUFFLE	COMPRESS_BYTE_COUNT	753335
+SHUFFLE	COPY_MAP_DATA	93450000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5127644
+SHUFFLE	COMPRESS_BYTE_COUNT	752451
+SHUFFLE	COPY_MAP_DATA	56861000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5134886
+SHUFFLE	COMPRESS_BYTE_COUNT	753014
+SHUFFLE	COPY_MAP_DATA	92102000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5136824
+SHUFFLE	COMPRESS_BYTE_COUNT	753132
+SHUFFLE	COPY_MAP_DATA	125779000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5134988
+SHUFFLE	COMPRESS_BYTE_COUNT	753323
+SHUFFLE	COPY_MAP_DATA	46614000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5149778
+SHUFFLE	COMPRESS_BYTE_COUNT	755736
+SHUFFLE	COPY_MAP_DATA	48376000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5134988
+SHUFFLE	COMPRESS_BYTE_COUNT	753148
+SHUFFLE	COPY_MAP_DATA	47197000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5136110
+SHUFFLE	COMPRESS_BYTE_COUNT	753768
+SHUFFLE	COPY_MAP_DATA	215776000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5169158
+SHUFFLE	COMPRESS_BYTE_COUNT	757758
+SHUFFLE	COPY_MAP_DATA	329512000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5157326
+SHUFFLE	COMPRESS_BYTE_COUNT	756194
+SHUFFLE	COPY_MAP_DATA	77087000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5172830
+SHUFFLE	COMPRESS_BYTE_COUNT	758406
+SHUFFLE	COPY_MAP_DATA	72592000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5141516
+SHUFFLE	COMPRESS_BYTE_COUNT	754180
+SHUFFLE	COPY_MAP_DATA	140347000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5186294
+SHUFFLE	COMPRESS_BYTE_COUNT	760426
+SHUFFLE	COPY_MAP_DATA	46671000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5108468
+SHUFFLE	COMPRESS_BYTE_COUNT	749262
+SHUFFLE	COPY_MAP_DATA	680589000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5163242
+SHUFFLE	COMPRESS_BYTE_COUNT	757168
+SHUFFLE	COPY_MAP_DATA	54038000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5120198
+SHUFFLE	COMPRESS_BYTE_COUNT	751301
+SHUFFLE	COPY_MAP_DATA	54069000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5116118
+SHUFFLE	COMPRESS_BYTE_COUNT	750855
+SHUFFLE	COPY_MAP_DATA	353526000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5134988
+SHUFFLE	COMPRESS_BYTE_COUNT	752973
+SHUFFLE	COPY_MAP_DATA	102956000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5137742
+SHUFFLE	COMPRESS_BYTE_COUNT	753145
+SHUFFLE	COPY_MAP_DATA	129647000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5127542
+SHUFFLE	COMPRESS_BYTE_COUNT	752315
+SHUFFLE	COPY_MAP_DATA	51958000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5132948
+SHUFFLE	COMPRESS_BYTE_COUNT	753185
+SHUFFLE	COPY_MAP_DATA	86308000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5132744
+SHUFFLE	COMPRESS_BYTE_COUNT	752845
+SHUFFLE	COPY_MAP_DATA	466737000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5130194
+SHUFFLE	COMPRESS_BYTE_COUNT	752685
+SHUFFLE	COPY_MAP_DATA	1901376000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5137334
+SHUFFLE	COMPRESS_BYTE_COUNT	753253
+SHUFFLE	COPY_MAP_DATA	48884000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5148350
+SHUFFLE	COMPRESS_BYTE_COUNT	755358
+SHUFFLE	COPY_MAP_DATA	95744000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5130500
+SHUFFLE	COMPRESS_BYTE_COUNT	752272
+SHUFFLE	COPY_MAP_DATA	58265000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5143454
+SHUFFLE	COMPRESS_BYTE_COUNT	754011
+SHUFFLE	COPY_MAP_DATA	224803000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5134376
+SHUFFLE	COMPRESS_BYTE_COUNT	752747
+SHUFFLE	COPY_MAP_DATA	587693000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5166608
+SHUFFLE	COMPRESS_BYTE_COUNT	757952
+SHUFFLE	COPY_MAP_DATA	50535000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5154776
+SHUFFLE	COMPRESS_BYTE_COUNT	756251
+SHUFFLE	COPY_MAP_DATA	195362000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5130704
+SHUFFLE	COMPRESS_BYTE_COUNT	752606
+SHUFFLE	COPY_MAP_DATA	86595000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5149064
+SHUFFLE	COMPRESS_BYTE_COUNT	755028
+SHUFFLE	COPY_MAP_DATA	523047000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5149982
+SHUFFLE	COMPRESS_BYTE_COUNT	755290
+SHUFFLE	COPY_MAP_DATA	153917000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5178746
+SHUFFLE	COMPRESS_BYTE_COUNT	759031
+SHUFFLE	COPY_MAP_DATA	125094000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5124380
+SHUFFLE	COMPRESS_BYTE_COUNT	751851
+SHUFFLE	COPY_MAP_DATA	47558000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5147942
+SHUFFLE	COMPRESS_BYTE_COUNT	755420
+SHUFFLE	COPY_MAP_DATA	89846000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5173442
+SHUFFLE	COMPRESS_BYTE_COUNT	758407
+SHUFFLE	COPY_MAP_DATA	45310000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5163548
+SHUFFLE	COMPRESS_BYTE_COUNT	756989
+SHUFFLE	COPY_MAP_DATA	43949000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5154164
+SHUFFLE	COMPRESS_BYTE_COUNT	755558
+SHUFFLE	COPY_MAP_DATA	44819000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5166200
+SHUFFLE	COMPRESS_BYTE_COUNT	757909
+SHUFFLE	COPY_MAP_DATA	45352000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5140496
+SHUFFLE	COMPRESS_BYTE_COUNT	754409
+SHUFFLE	COPY_MAP_DATA	779371000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5145596
+SHUFFLE	COMPRESS_BYTE_COUNT	754613
+SHUFFLE	COPY_MAP_DATA	48088000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5142944
+SHUFFLE	COMPRESS_BYTE_COUNT	754165
+SHUFFLE	COPY_MAP_DATA	47247000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5126930
+SHUFFLE	COMPRESS_BYTE_COUNT	752086
+SHUFFLE	COPY_MAP_DATA	46732000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5113670
+SHUFFLE	COMPRESS_BYTE_COUNT	749677
+SHUFFLE	COPY_MAP_DATA	78608000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5142230
+SHUFFLE	COMPRESS_BYTE_COUNT	754195
+SHUFFLE	COPY_MAP_DATA	509801000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5147942
+SHUFFLE	COMPRESS_BYTE_COUNT	750570
+SHUFFLE	COPY_MAP_DATA	90777000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5107346
+SHUFFLE	COMPRESS_BYTE_COUNT	749052
+SHUFFLE	COPY_MAP_DATA	49296000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5155184
+SHUFFLE	COMPRESS_BYTE_COUNT	755948
+SHUFFLE	COPY_MAP_DATA	442016000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5145494
+SHUFFLE	COMPRESS_BYTE_COUNT	754808
+SHUFFLE	COPY_MAP_DATA	74949000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5133356
+SHUFFLE	COMPRESS_BYTE_COUNT	753332
+SHUFFLE	COPY_MAP_DATA	1391886000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5125706
+SHUFFLE	COMPRESS_BYTE_COUNT	752336
+SHUFFLE	COPY_MAP_DATA	141411000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5132948
+SHUFFLE	COMPRESS_BYTE_COUNT	752470
+SHUFFLE	COPY_MAP_DATA	48766000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5139680
+SHUFFLE	COMPRESS_BYTE_COUNT	753760
+SHUFFLE	COPY_MAP_DATA	478346000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5145902
+SHUFFLE	COMPRESS_BYTE_COUNT	755189
+SHUFFLE	COPY_MAP_DATA	124120000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5082152
+SHUFFLE	COMPRESS_BYTE_COUNT	745689
+SHUFFLE	COPY_MAP_DATA	556608000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5147432
+SHUFFLE	COMPRESS_BYTE_COUNT	754857
+SHUFFLE	COPY_MAP_DATA	186006000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5153756
+SHUFFLE	COMPRESS_BYTE_COUNT	755456
+SHUFFLE	COPY_MAP_DATA	76297000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5136722
+SHUFFLE	COMPRESS_BYTE_COUNT	753826
+SHUFFLE	COPY_MAP_DATA	46990000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5135702
+SHUFFLE	COMPRESS_BYTE_COUNT	753158
+SHUFFLE	COPY_MAP_DATA	46686000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5178338
+SHUFFLE	COMPRESS_BYTE_COUNT	759897
+SHUFFLE	COPY_MAP_DATA	47280000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5155286
+SHUFFLE	COMPRESS_BYTE_COUNT	756395
+SHUFFLE	COPY_MAP_DATA	399609000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5136110
+SHUFFLE	COMPRESS_BYTE_COUNT	753486
+SHUFFLE	COPY_MAP_DATA	45601000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5156918
+SHUFFLE	COMPRESS_BYTE_COUNT	755926
+SHUFFLE	COPY_MAP_DATA	46344000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5118056
+SHUFFLE	COMPRESS_BYTE_COUNT	750918
+SHUFFLE	COPY_MAP_DATA	1093028000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5130398
+SHUFFLE	COMPRESS_BYTE_COUNT	752103
+SHUFFLE	COPY_MAP_DATA	81178000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5120810
+SHUFFLE	COMPRESS_BYTE_COUNT	750840
+SHUFFLE	COPY_MAP_DATA	91386000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5159264
+SHUFFLE	COMPRESS_BYTE_COUNT	757104
+SHUFFLE	COPY_MAP_DATA	52385000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5138456
+SHUFFLE	COMPRESS_BYTE_COUNT	753373
+SHUFFLE	COPY_MAP_DATA	3654640000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5130500
+SHUFFLE	COMPRESS_BYTE_COUNT	752766
+SHUFFLE	COPY_MAP_DATA	1103290000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5184662
+SHUFFLE	COMPRESS_BYTE_COUNT	760830
+SHUFFLE	COPY_MAP_DATA	90022000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5139170
+SHUFFLE	COMPRESS_BYTE_COUNT	754367
+SHUFFLE	COPY_MAP_DATA	76762000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5158142
+SHUFFLE	COMPRESS_BYTE_COUNT	756520
+SHUFFLE	COPY_MAP_DATA	8872440000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5107346
+SHUFFLE	COMPRESS_BYTE_COUNT	749376
+SHUFFLE	COPY_MAP_DATA	73266000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5098982
+SHUFFLE	COMPRESS_BYTE_COUNT	747700
+SHUFFLE	COPY_MAP_DATA	52718000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5157122
+SHUFFLE	COMPRESS_BYTE_COUNT	756036
+SHUFFLE	COPY_MAP_DATA	53683000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5122340
+SHUFFLE	COMPRESS_BYTE_COUNT	751462
+SHUFFLE	COPY_MAP_DATA	2291768000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5106020
+SHUFFLE	COMPRESS_BYTE_COUNT	748764
+SHUFFLE	COPY_MAP_DATA	5741961000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5126624
+SHUFFLE	COMPRESS_BYTE_COUNT	752374
+SHUFFLE	COPY_MAP_DATA	68124000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5138252
+SHUFFLE	COMPRESS_BYTE_COUNT	753625
+SHUFFLE	COPY_MAP_DATA	64842000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5117954
+SHUFFLE	COMPRESS_BYTE_COUNT	750650
+SHUFFLE	COPY_MAP_DATA	345505000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5117240
+SHUFFLE	COMPRESS_BYTE_COUNT	750459
+SHUFFLE	COPY_MAP_DATA	5270529000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5164976
+SHUFFLE	COMPRESS_BYTE_COUNT	757560
+SHUFFLE	COPY_MAP_DATA	126138000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5147738
+SHUFFLE	COMPRESS_BYTE_COUNT	755106
+SHUFFLE	COPY_MAP_DATA	47182000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5147228
+SHUFFLE	COMPRESS_BYTE_COUNT	754970
+SHUFFLE	COPY_MAP_DATA	1034866000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5137130
+SHUFFLE	COMPRESS_BYTE_COUNT	753259
+SHUFFLE	COPY_MAP_DATA	171757000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5107958
+SHUFFLE	COMPRESS_BYTE_COUNT	749478
+SHUFFLE	COPY_MAP_DATA	44119000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5144576
+SHUFFLE	COMPRESS_BYTE_COUNT	754336
+SHUFFLE	COPY_MAP_DATA	684734000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5167220
+SHUFFLE	COMPRESS_BYTE_COUNT	757457
+SHUFFLE	COPY_MAP_DATA	48931000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5105306
+SHUFFLE	COMPRESS_BYTE_COUNT	748603
+SHUFFLE	COPY_MAP_DATA	52223000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5177522
+SHUFFLE	COMPRESS_BYTE_COUNT	759321
+SHUFFLE	COPY_MAP_DATA	47719000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5142740
+SHUFFLE	COMPRESS_BYTE_COUNT	754519
+SHUFFLE	COPY_MAP_DATA	890452000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5126624
+SHUFFLE	COMPRESS_BYTE_COUNT	751777
+SHUFFLE	COPY_MAP_DATA	83131000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5158040
+SHUFFLE	COMPRESS_BYTE_COUNT	756647
+SHUFFLE	COPY_MAP_DATA	80595000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5126828
+SHUFFLE	COMPRESS_BYTE_COUNT	752131
+SHUFFLE	COPY_MAP_DATA	306125000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5117750
+SHUFFLE	COMPRESS_BYTE_COUNT	750878
+SHUFFLE	COPY_MAP_DATA	48134000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5109590
+SHUFFLE	COMPRESS_BYTE_COUNT	749464
+SHUFFLE	COPY_MAP_DATA	95094000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5138864
+SHUFFLE	COMPRESS_BYTE_COUNT	753521
+SHUFFLE	COPY_MAP_DATA	176715000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5161916
+SHUFFLE	COMPRESS_BYTE_COUNT	756902
+SHUFFLE	COPY_MAP_DATA	62757000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5158652
+SHUFFLE	COMPRESS_BYTE_COUNT	756493
+SHUFFLE	COPY_MAP_DATA	50173000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5175890
+SHUFFLE	COMPRESS_BYTE_COUNT	758871
+SHUFFLE	COPY_MAP_DATA	463874000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5140190
+SHUFFLE	COMPRESS_BYTE_COUNT	754009
+SHUFFLE	COPY_MAP_DATA	52953000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5176910
+SHUFFLE	COMPRESS_BYTE_COUNT	759009
+SHUFFLE	COPY_MAP_DATA	52772000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5137232
+SHUFFLE	COMPRESS_BYTE_COUNT	753723
+SHUFFLE	COPY_MAP_DATA	1234353000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5147636
+SHUFFLE	COMPRESS_BYTE_COUNT	755542
+SHUFFLE	COPY_MAP_DATA	159760000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5178338
+SHUFFLE	COMPRESS_BYTE_COUNT	759066
+SHUFFLE	COPY_MAP_DATA	273497000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5135702
+SHUFFLE	COMPRESS_BYTE_COUNT	753620
+SHUFFLE	COPY_MAP_DATA	43070000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5144576
+SHUFFLE	COMPRESS_BYTE_COUNT	754142
+SHUFFLE	COPY_MAP_DATA	54391000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5116526
+SHUFFLE	COMPRESS_BYTE_COUNT	750294
+SHUFFLE	COPY_MAP_DATA	47127000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5141414
+SHUFFLE	COMPRESS_BYTE_COUNT	754333
+SHUFFLE	COPY_MAP_DATA	174706000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5106632
+SHUFFLE	COMPRESS_BYTE_COUNT	749343
+SHUFFLE	COPY_MAP_DATA	317609000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5125400
+SHUFFLE	COMPRESS_BYTE_COUNT	751349
+SHUFFLE	COPY_MAP_DATA	734379000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5123360
+SHUFFLE	COMPRESS_BYTE_COUNT	751176
+SHUFFLE	COPY_MAP_DATA	77704000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5141618
+SHUFFLE	COMPRESS_BYTE_COUNT	754165
+SHUFFLE	COPY_MAP_DATA	48193000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5175584
+SHUFFLE	COMPRESS_BYTE_COUNT	758786
+SHUFFLE	COPY_MAP_DATA	94698000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5140190
+SHUFFLE	COMPRESS_BYTE_COUNT	753911
+SHUFFLE	COPY_MAP_DATA	83682000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5166098
+SHUFFLE	COMPRESS_BYTE_COUNT	757669
+SHUFFLE	COPY_MAP_DATA	1115977000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5101328
+SHUFFLE	COMPRESS_BYTE_COUNT	748056
+SHUFFLE	COPY_MAP_DATA	49512000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5158856
+SHUFFLE	COMPRESS_BYTE_COUNT	756540
+SHUFFLE	COPY_MAP_DATA	122132000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5168240
+SHUFFLE	COMPRESS_BYTE_COUNT	757966
+SHUFFLE	COPY_MAP_DATA	371988000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5132438
+SHUFFLE	COMPRESS_BYTE_COUNT	753011
+SHUFFLE	COPY_MAP_DATA	60625000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5163140
+SHUFFLE	COMPRESS_BYTE_COUNT	757147
+SHUFFLE	COPY_MAP_DATA	171531000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5138864
+SHUFFLE	COMPRESS_BYTE_COUNT	754103
+SHUFFLE	COPY_MAP_DATA	526900000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5101736
+SHUFFLE	COMPRESS_BYTE_COUNT	747940
+SHUFFLE	COPY_MAP_DATA	52311000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5167220
+SHUFFLE	COMPRESS_BYTE_COUNT	757785
+SHUFFLE	COPY_MAP_DATA	48100000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5159366
+SHUFFLE	COMPRESS_BYTE_COUNT	749382
+SHUFFLE	COPY_MAP_DATA	51294000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5155694
+SHUFFLE	COMPRESS_BYTE_COUNT	755921
+SHUFFLE	COPY_MAP_DATA	203075000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5127848
+SHUFFLE	COMPRESS_BYTE_COUNT	752276
+SHUFFLE	COPY_MAP_DATA	1728326000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5192516
+SHUFFLE	COMPRESS_BYTE_COUNT	761537
+SHUFFLE	COPY_MAP_DATA	234693000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5125094
+SHUFFLE	COMPRESS_BYTE_COUNT	751203
+SHUFFLE	COPY_MAP_DATA	46701000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5096330
+SHUFFLE	COMPRESS_BYTE_COUNT	747611
+SHUFFLE	COPY_MAP_DATA	538045000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5136824
+SHUFFLE	COMPRESS_BYTE_COUNT	753112
+SHUFFLE	COPY_MAP_DATA	157117000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5141006
+SHUFFLE	COMPRESS_BYTE_COUNT	753860
+SHUFFLE	COPY_MAP_DATA	1044502000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5119484
+SHUFFLE	COMPRESS_BYTE_COUNT	750857
+SHUFFLE	COPY_MAP_DATA	54108000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1227572
+SHUFFLE	COMPRESS_BYTE_COUNT	177997
+SHUFFLE	COPY_MAP_DATA	217956000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5103776
+SHUFFLE	COMPRESS_BYTE_COUNT	748376
+SHUFFLE	COPY_MAP_DATA	144201000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5177624
+SHUFFLE	COMPRESS_BYTE_COUNT	758836
+SHUFFLE	COPY_MAP_DATA	224345000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5142638
+SHUFFLE	COMPRESS_BYTE_COUNT	754472
+SHUFFLE	COPY_MAP_DATA	5396270000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5140496
+SHUFFLE	COMPRESS_BYTE_COUNT	753741
+SHUFFLE	COPY_MAP_DATA	220668000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1217984
+SHUFFLE	COMPRESS_BYTE_COUNT	176661
+SHUFFLE	COPY_MAP_DATA	14703000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5153144
+SHUFFLE	COMPRESS_BYTE_COUNT	755801
+SHUFFLE	COPY_MAP_DATA	48268000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5127440
+SHUFFLE	COMPRESS_BYTE_COUNT	752258
+SHUFFLE	COPY_MAP_DATA	12879313000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1204928
+SHUFFLE	COMPRESS_BYTE_COUNT	174931
+SHUFFLE	COPY_MAP_DATA	67645000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5117036
+SHUFFLE	COMPRESS_BYTE_COUNT	750959
+SHUFFLE	COPY_MAP_DATA	47722000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5135906
+SHUFFLE	COMPRESS_BYTE_COUNT	753481
+SHUFFLE	COPY_MAP_DATA	48648000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5146820
+SHUFFLE	COMPRESS_BYTE_COUNT	755263
+SHUFFLE	COPY_MAP_DATA	1279235000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5124788
+SHUFFLE	COMPRESS_BYTE_COUNT	751485
+SHUFFLE	COPY_MAP_DATA	144241000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1208906
+SHUFFLE	COMPRESS_BYTE_COUNT	175502
+SHUFFLE	COPY_MAP_DATA	323398000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5128154
+SHUFFLE	COMPRESS_BYTE_COUNT	751804
+SHUFFLE	COPY_MAP_DATA	43641000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5118566
+SHUFFLE	COMPRESS_BYTE_COUNT	751056
+SHUFFLE	COPY_MAP_DATA	126985000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5167220
+SHUFFLE	COMPRESS_BYTE_COUNT	757851
+SHUFFLE	COPY_MAP_DATA	310353000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1210334
+SHUFFLE	COMPRESS_BYTE_COUNT	175594
+SHUFFLE	COPY_MAP_DATA	13439000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5120096
+SHUFFLE	COMPRESS_BYTE_COUNT	750901
+SHUFFLE	COPY_MAP_DATA	45889000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5082458
+SHUFFLE	COMPRESS_BYTE_COUNT	745571
+SHUFFLE	COPY_MAP_DATA	45553000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5139680
+SHUFFLE	COMPRESS_BYTE_COUNT	753982
+SHUFFLE	COPY_MAP_DATA	57878000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5113058
+SHUFFLE	COMPRESS_BYTE_COUNT	750020
+SHUFFLE	COPY_MAP_DATA	44003000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5174258
+SHUFFLE	COMPRESS_BYTE_COUNT	758884
+SHUFFLE	COPY_MAP_DATA	5419146000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1214414
+SHUFFLE	COMPRESS_BYTE_COUNT	176295
+SHUFFLE	COPY_MAP_DATA	13141000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5161916
+SHUFFLE	COMPRESS_BYTE_COUNT	757300
+SHUFFLE	COPY_MAP_DATA	758198000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5115608
+SHUFFLE	COMPRESS_BYTE_COUNT	750491
+SHUFFLE	COPY_MAP_DATA	119592000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5141924
+SHUFFLE	COMPRESS_BYTE_COUNT	754148
+SHUFFLE	COPY_MAP_DATA	53927000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5127746
+SHUFFLE	COMPRESS_BYTE_COUNT	752067
+SHUFFLE	COPY_MAP_DATA	4840665000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5122748
+SHUFFLE	COMPRESS_BYTE_COUNT	751372
+SHUFFLE	COPY_MAP_DATA	670638000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1208702
+SHUFFLE	COMPRESS_BYTE_COUNT	175430
+SHUFFLE	COPY_MAP_DATA	13243000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1222880
+SHUFFLE	COMPRESS_BYTE_COUNT	177485
+SHUFFLE	COPY_MAP_DATA	13757000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5141108
+SHUFFLE	COMPRESS_BYTE_COUNT	754337
+SHUFFLE	COPY_MAP_DATA	71929000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5121320
+SHUFFLE	COMPRESS_BYTE_COUNT	750899
+SHUFFLE	COPY_MAP_DATA	4029079000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5133254
+SHUFFLE	COMPRESS_BYTE_COUNT	752903
+SHUFFLE	COPY_MAP_DATA	48165000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5118158
+SHUFFLE	COMPRESS_BYTE_COUNT	750886
+SHUFFLE	COPY_MAP_DATA	72735000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1212272
+SHUFFLE	COMPRESS_BYTE_COUNT	175935
+SHUFFLE	COPY_MAP_DATA	3894274000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5139272
+SHUFFLE	COMPRESS_BYTE_COUNT	753800
+SHUFFLE	COPY_MAP_DATA	7477688000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5131418
+SHUFFLE	COMPRESS_BYTE_COUNT	753301
+SHUFFLE	COPY_MAP_DATA	90827000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5127950
+SHUFFLE	COMPRESS_BYTE_COUNT	751968
+SHUFFLE	COPY_MAP_DATA	56234000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1202276
+SHUFFLE	COMPRESS_BYTE_COUNT	174666
+SHUFFLE	COPY_MAP_DATA	13606000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5139986
+SHUFFLE	COMPRESS_BYTE_COUNT	754111
+SHUFFLE	COPY_MAP_DATA	213751000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5121422
+SHUFFLE	COMPRESS_BYTE_COUNT	750897
+SHUFFLE	COPY_MAP_DATA	910216000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5164670
+SHUFFLE	COMPRESS_BYTE_COUNT	756949
+SHUFFLE	COPY_MAP_DATA	181433000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5162222
+SHUFFLE	COMPRESS_BYTE_COUNT	757148
+SHUFFLE	COPY_MAP_DATA	155095000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1198706
+SHUFFLE	COMPRESS_BYTE_COUNT	174075
+SHUFFLE	COPY_MAP_DATA	16559000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5157632
+SHUFFLE	COMPRESS_BYTE_COUNT	755832
+SHUFFLE	COPY_MAP_DATA	121751000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5167016
+SHUFFLE	COMPRESS_BYTE_COUNT	758027
+SHUFFLE	COPY_MAP_DATA	89397000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1207070
+SHUFFLE	COMPRESS_BYTE_COUNT	175125
+SHUFFLE	COPY_MAP_DATA	73420000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1208906
+SHUFFLE	COMPRESS_BYTE_COUNT	175590
+SHUFFLE	COPY_MAP_DATA	173331000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5164670
+SHUFFLE	COMPRESS_BYTE_COUNT	757108
+SHUFFLE	COPY_MAP_DATA	44331000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1207988
+SHUFFLE	COMPRESS_BYTE_COUNT	175425
+SHUFFLE	COPY_MAP_DATA	19113000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5157020
+SHUFFLE	COMPRESS_BYTE_COUNT	756643
+SHUFFLE	COPY_MAP_DATA	148778000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1228388
+SHUFFLE	COMPRESS_BYTE_COUNT	178363
+SHUFFLE	COPY_MAP_DATA	12763000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1202582
+SHUFFLE	COMPRESS_BYTE_COUNT	174455
+SHUFFLE	COPY_MAP_DATA	12918000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1205234
+SHUFFLE	COMPRESS_BYTE_COUNT	174956
+SHUFFLE	COPY_MAP_DATA	15955000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1199522
+SHUFFLE	COMPRESS_BYTE_COUNT	174163
+SHUFFLE	COPY_MAP_DATA	29495000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1202276
+SHUFFLE	COMPRESS_BYTE_COUNT	174627
+SHUFFLE	COPY_MAP_DATA	338572000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1224308
+SHUFFLE	COMPRESS_BYTE_COUNT	177795
+SHUFFLE	COPY_MAP_DATA	12910000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5122952
+SHUFFLE	COMPRESS_BYTE_COUNT	751626
+SHUFFLE	COPY_MAP_DATA	45593000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1214108
+SHUFFLE	COMPRESS_BYTE_COUNT	176351
+SHUFFLE	COPY_MAP_DATA	212817000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5148962
+SHUFFLE	COMPRESS_BYTE_COUNT	755411
+SHUFFLE	COPY_MAP_DATA	44246000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5123462
+SHUFFLE	COMPRESS_BYTE_COUNT	752021
+SHUFFLE	COPY_MAP_DATA	48188000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5173238
+SHUFFLE	COMPRESS_BYTE_COUNT	758215
+SHUFFLE	COPY_MAP_DATA	48119000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1196360
+SHUFFLE	COMPRESS_BYTE_COUNT	173680
+SHUFFLE	COPY_MAP_DATA	3097840000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1224410
+SHUFFLE	COMPRESS_BYTE_COUNT	177679
+SHUFFLE	COPY_MAP_DATA	15051000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1192688
+SHUFFLE	COMPRESS_BYTE_COUNT	173127
+SHUFFLE	COPY_MAP_DATA	5456352000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1208498
+SHUFFLE	COMPRESS_BYTE_COUNT	175386
+SHUFFLE	COPY_MAP_DATA	21969000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5153654
+SHUFFLE	COMPRESS_BYTE_COUNT	756238
+SHUFFLE	COPY_MAP_DATA	101606000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5171606
+SHUFFLE	COMPRESS_BYTE_COUNT	758543
+SHUFFLE	COPY_MAP_DATA	65647000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5124788
+SHUFFLE	COMPRESS_BYTE_COUNT	751721
+SHUFFLE	COPY_MAP_DATA	562635000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1206560
+SHUFFLE	COMPRESS_BYTE_COUNT	175209
+SHUFFLE	COPY_MAP_DATA	15247000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1213700
+SHUFFLE	COMPRESS_BYTE_COUNT	176012
+SHUFFLE	COPY_MAP_DATA	13980000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1212374
+SHUFFLE	COMPRESS_BYTE_COUNT	175982
+SHUFFLE	COPY_MAP_DATA	13929000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1213904
+SHUFFLE	COMPRESS_BYTE_COUNT	176197
+SHUFFLE	COPY_MAP_DATA	4231545000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5153348
+SHUFFLE	COMPRESS_BYTE_COUNT	755813
+SHUFFLE	COPY_MAP_DATA	156069000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1197992
+SHUFFLE	COMPRESS_BYTE_COUNT	173893
+SHUFFLE	COPY_MAP_DATA	148146000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1210130
+SHUFFLE	COMPRESS_BYTE_COUNT	175830
+SHUFFLE	COPY_MAP_DATA	12401000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1211660
+SHUFFLE	COMPRESS_BYTE_COUNT	175988
+SHUFFLE	COPY_MAP_DATA	218600000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5133458
+SHUFFLE	COMPRESS_BYTE_COUNT	752770
+SHUFFLE	COPY_MAP_DATA	128452000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1210130
+SHUFFLE	COMPRESS_BYTE_COUNT	175656
+SHUFFLE	COPY_MAP_DATA	16243000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1214312
+SHUFFLE	COMPRESS_BYTE_COUNT	176164
+SHUFFLE	COPY_MAP_DATA	12353000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1214006
+SHUFFLE	COMPRESS_BYTE_COUNT	176293
+SHUFFLE	COPY_MAP_DATA	79565000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1218800
+SHUFFLE	COMPRESS_BYTE_COUNT	176987
+SHUFFLE	COPY_MAP_DATA	72382000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5117036
+SHUFFLE	COMPRESS_BYTE_COUNT	750680
+SHUFFLE	COPY_MAP_DATA	1633525000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5106326
+SHUFFLE	COMPRESS_BYTE_COUNT	748999
+SHUFFLE	COPY_MAP_DATA	60630000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1206254
+SHUFFLE	COMPRESS_BYTE_COUNT	175047
+SHUFFLE	COPY_MAP_DATA	1741131000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5105510
+SHUFFLE	COMPRESS_BYTE_COUNT	748935
+SHUFFLE	COPY_MAP_DATA	141200000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1212272
+SHUFFLE	COMPRESS_BYTE_COUNT	175901
+SHUFFLE	COPY_MAP_DATA	320788000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1218698
+SHUFFLE	COMPRESS_BYTE_COUNT	176912
+SHUFFLE	COPY_MAP_DATA	3530719000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1196156
+SHUFFLE	COMPRESS_BYTE_COUNT	173690
+SHUFFLE	COPY_MAP_DATA	13322000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1204520
+SHUFFLE	COMPRESS_BYTE_COUNT	174976
+SHUFFLE	COPY_MAP_DATA	265054000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1212986
+SHUFFLE	COMPRESS_BYTE_COUNT	176085
+SHUFFLE	COPY_MAP_DATA	343349000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1215638
+SHUFFLE	COMPRESS_BYTE_COUNT	176476
+SHUFFLE	COPY_MAP_DATA	159202000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1211048
+SHUFFLE	COMPRESS_BYTE_COUNT	175932
+SHUFFLE	COPY_MAP_DATA	15762000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1214720
+SHUFFLE	COMPRESS_BYTE_COUNT	176309
+SHUFFLE	COPY_MAP_DATA	119991000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1217576
+SHUFFLE	COMPRESS_BYTE_COUNT	176594
+SHUFFLE	COPY_MAP_DATA	13160000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1226144
+SHUFFLE	COMPRESS_BYTE_COUNT	177829
+SHUFFLE	COPY_MAP_DATA	279351000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5145494
+SHUFFLE	COMPRESS_BYTE_COUNT	754759
+SHUFFLE	COPY_MAP_DATA	47184000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1211762
+SHUFFLE	COMPRESS_BYTE_COUNT	175964
+SHUFFLE	COPY_MAP_DATA	388467000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1231958
+SHUFFLE	COMPRESS_BYTE_COUNT	178881
+SHUFFLE	COPY_MAP_DATA	20456000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1196258
+SHUFFLE	COMPRESS_BYTE_COUNT	173704
+SHUFFLE	COPY_MAP_DATA	34835000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5145392
+SHUFFLE	COMPRESS_BYTE_COUNT	754689
+SHUFFLE	COPY_MAP_DATA	2704768000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5126930
+SHUFFLE	COMPRESS_BYTE_COUNT	751967
+SHUFFLE	COPY_MAP_DATA	51957000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1196870
+SHUFFLE	COMPRESS_BYTE_COUNT	173851
+SHUFFLE	COPY_MAP_DATA	11926000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1225022
+SHUFFLE	COMPRESS_BYTE_COUNT	177831
+SHUFFLE	COPY_MAP_DATA	12421000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1205642
+SHUFFLE	COMPRESS_BYTE_COUNT	175088
+SHUFFLE	COPY_MAP_DATA	19064000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5173748
+SHUFFLE	COMPRESS_BYTE_COUNT	758527
+SHUFFLE	COPY_MAP_DATA	56281000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5167322
+SHUFFLE	COMPRESS_BYTE_COUNT	757782
+SHUFFLE	COPY_MAP_DATA	54571000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1212986
+SHUFFLE	COMPRESS_BYTE_COUNT	176055
+SHUFFLE	COPY_MAP_DATA	43644000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1219310
+SHUFFLE	COMPRESS_BYTE_COUNT	176852
+SHUFFLE	COPY_MAP_DATA	13715000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1205846
+SHUFFLE	COMPRESS_BYTE_COUNT	174890
+SHUFFLE	COPY_MAP_DATA	193560000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1189220
+SHUFFLE	COMPRESS_BYTE_COUNT	172699
+SHUFFLE	COPY_MAP_DATA	13343000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1208090
+SHUFFLE	COMPRESS_BYTE_COUNT	175414
+SHUFFLE	COPY_MAP_DATA	70180000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1204316
+SHUFFLE	COMPRESS_BYTE_COUNT	174802
+SHUFFLE	COPY_MAP_DATA	13550000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1204316
+SHUFFLE	COMPRESS_BYTE_COUNT	174862
+SHUFFLE	COPY_MAP_DATA	185755000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1215230
+SHUFFLE	COMPRESS_BYTE_COUNT	176408
+SHUFFLE	COPY_MAP_DATA	14034000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1215332
+SHUFFLE	COMPRESS_BYTE_COUNT	176473
+SHUFFLE	COPY_MAP_DATA	13126000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1187996
+SHUFFLE	COMPRESS_BYTE_COUNT	172558
+SHUFFLE	COPY_MAP_DATA	38540000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1206866
+SHUFFLE	COMPRESS_BYTE_COUNT	175169
+SHUFFLE	COPY_MAP_DATA	13881000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1220330
+SHUFFLE	COMPRESS_BYTE_COUNT	177186
+SHUFFLE	COPY_MAP_DATA	13907000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1221554
+SHUFFLE	COMPRESS_BYTE_COUNT	177320
+SHUFFLE	COPY_MAP_DATA	15397000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5121014
+SHUFFLE	COMPRESS_BYTE_COUNT	750969
+SHUFFLE	COPY_MAP_DATA	49377000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1211558
+SHUFFLE	COMPRESS_BYTE_COUNT	175798
+SHUFFLE	COPY_MAP_DATA	14494000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1203908
+SHUFFLE	COMPRESS_BYTE_COUNT	174641
+SHUFFLE	COPY_MAP_DATA	13670000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1202684
+SHUFFLE	COMPRESS_BYTE_COUNT	174510
+SHUFFLE	COPY_MAP_DATA	13897000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1218800
+SHUFFLE	COMPRESS_BYTE_COUNT	177030
+SHUFFLE	COPY_MAP_DATA	14163000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1203908
+SHUFFLE	COMPRESS_BYTE_COUNT	174772
+SHUFFLE	COPY_MAP_DATA	12912000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1207580
+SHUFFLE	COMPRESS_BYTE_COUNT	175282
+SHUFFLE	COPY_MAP_DATA	13322000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1207172
+SHUFFLE	COMPRESS_BYTE_COUNT	175268
+SHUFFLE	COPY_MAP_DATA	13769000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1219616
+SHUFFLE	COMPRESS_BYTE_COUNT	177050
+SHUFFLE	COPY_MAP_DATA	20874000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1194932
+SHUFFLE	COMPRESS_BYTE_COUNT	173408
+SHUFFLE	COPY_MAP_DATA	154521000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1236854
+SHUFFLE	COMPRESS_BYTE_COUNT	179541
+SHUFFLE	COPY_MAP_DATA	16265000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1185956
+SHUFFLE	COMPRESS_BYTE_COUNT	172201
+SHUFFLE	COPY_MAP_DATA	16455000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1215740
+SHUFFLE	COMPRESS_BYTE_COUNT	176500
+SHUFFLE	COPY_MAP_DATA	14416000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1243994
+SHUFFLE	COMPRESS_BYTE_COUNT	180353
+SHUFFLE	COPY_MAP_DATA	75243000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1206560
+SHUFFLE	COMPRESS_BYTE_COUNT	175152
+SHUFFLE	COPY_MAP_DATA	13860000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1200746
+SHUFFLE	COMPRESS_BYTE_COUNT	174403
+SHUFFLE	COPY_MAP_DATA	12563000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1208294
+SHUFFLE	COMPRESS_BYTE_COUNT	175446
+SHUFFLE	COPY_MAP_DATA	16795000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1208702
+SHUFFLE	COMPRESS_BYTE_COUNT	175386
+SHUFFLE	COPY_MAP_DATA	115110000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1220942
+SHUFFLE	COMPRESS_BYTE_COUNT	177317
+SHUFFLE	COPY_MAP_DATA	87069000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1190342
+SHUFFLE	COMPRESS_BYTE_COUNT	172887
+SHUFFLE	COPY_MAP_DATA	61370000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1197074
+SHUFFLE	COMPRESS_BYTE_COUNT	173865
+SHUFFLE	COPY_MAP_DATA	12777000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1206560
+SHUFFLE	COMPRESS_BYTE_COUNT	175196
+SHUFFLE	COPY_MAP_DATA	11956000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1211558
+SHUFFLE	COMPRESS_BYTE_COUNT	175953
+SHUFFLE	COPY_MAP_DATA	12488000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1198706
+SHUFFLE	COMPRESS_BYTE_COUNT	174051
+SHUFFLE	COPY_MAP_DATA	266518000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1205438
+SHUFFLE	COMPRESS_BYTE_COUNT	175018
+SHUFFLE	COPY_MAP_DATA	12403000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1214006
+SHUFFLE	COMPRESS_BYTE_COUNT	176156
+SHUFFLE	COPY_MAP_DATA	11667000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1208804
+SHUFFLE	COMPRESS_BYTE_COUNT	175547
+SHUFFLE	COPY_MAP_DATA	11671000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1210742
+SHUFFLE	COMPRESS_BYTE_COUNT	175755
+SHUFFLE	COPY_MAP_DATA	12756000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1201460
+SHUFFLE	COMPRESS_BYTE_COUNT	174530
+SHUFFLE	COPY_MAP_DATA	72524000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1217168
+SHUFFLE	COMPRESS_BYTE_COUNT	176647
+SHUFFLE	COPY_MAP_DATA	13175000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1195442
+SHUFFLE	COMPRESS_BYTE_COUNT	173610
+SHUFFLE	COPY_MAP_DATA	13541000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1223186
+SHUFFLE	COMPRESS_BYTE_COUNT	177651
+SHUFFLE	COPY_MAP_DATA	13650000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1201766
+SHUFFLE	COMPRESS_BYTE_COUNT	174306
+SHUFFLE	COPY_MAP_DATA	14261000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1193300
+SHUFFLE	COMPRESS_BYTE_COUNT	173345
+SHUFFLE	COPY_MAP_DATA	13090000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1220024
+SHUFFLE	COMPRESS_BYTE_COUNT	177056
+SHUFFLE	COPY_MAP_DATA	15104000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	194341313000
+MERGE	READ_WRITE	189736801000
+MERGE	READ_WRITE_COUNT	8
+MERGE	COMBINE	0
+MERGE	WRITE	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	3684650000
+SORT	READ_WRITE	3559970000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	209465528
+REDUCE	SETUP	304000
+REDUCE	SETUP_MEM	209465528
+REDUCE	CLEANUP	35000
+REDUCE	CLEANUP_MEM	191305592
+REDUCE	TOTAL_RUN	154293127000
+REDUCE	READ	20734253000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	79598043000
+REDUCE	WRITE	30383827000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	112646030
+REDUCE	VALUE_BYTE_COUNT	991285064
+REDUCE	REDUCE_MEM	191307640
+REDUCE	WRITE	184458000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	682558094000
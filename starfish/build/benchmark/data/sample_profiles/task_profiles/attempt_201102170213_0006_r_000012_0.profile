@@ -0,0 +1,1229 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5043800
+SHUFFLE	COMPRESS_BYTE_COUNT	739205
+SHUFFLE	COPY_MAP_DATA	178165000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5043494
+SHUFFLE	COMPRESS_BYTE_COUNT	740239
+SHUFFLE	COPY_MAP_DATA	100399000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5018402
+SHUFFLE	COMPRESS_BYTE_COUNT	736038
+SHUFFLE	COPY_MAP_DATA	104364000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5024828
+SHUFFLE	COMPRESS_BYTE_COUNT	737211
+SHUFFLE	COPY_MAP_DATA	194069000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5011976
+SHUFFLE	COMPRESS_BYTE_COUNT	735372
+SHUFFLE	COPY_MAP_DATA	247247000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5049104
+SHUFFLE	COMPRESS_BYTE_COUNT	741165
+SHUFFLE	COPY_MAP_DATA	112249000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5022278
+SHUFFLE	COMPRESS_BYTE_COUNT	736691
+SHUFFLE	COPY_MAP_DATA	155100000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5020340
+SHUFFLE	COMPRESS_BYTE_COUNT	736985
+SHUFFLE	COPY_MAP_DATA	533352000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5071952
+SHUFFLE	COMPRESS_BYTE_COUNT	743929
+SHUFFLE	COPY_MAP_DATA	97809000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5077256
+SHUFFLE	COMPRESS_BYTE_COUNT	745211
+SHUFFLE	COPY_MAP_DATA	387890000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5043800
+SHUFFLE	COMPRESS_BYTE_COUNT	739816
+SHUFFLE	COPY_MAP_DATA	60073000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5049614
+SHUFFLE	COMPRESS_BYTE_COUNT	740870
+SHUFFLE	COPY_MAP_DATA	50803000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5061752
+SHUFFLE	COMPRESS_BYTE_COUNT	742313
+SHUFFLE	COPY_MAP_DATA	58155000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5067770
+SHUFFLE	COMPRESS_BYTE_COUNT	743247
+SHUFFLE	COPY_MAP_DATA	245061000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5058590
+SHUFFLE	COMPRESS_BYTE_COUNT	742417
+SHUFFLE	COPY_MAP_DATA	58408000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5076542
+SHUFFLE	COMPRESS_BYTE_COUNT	744705
+SHUFFLE	COPY_MAP_DATA	120966000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5007896
+SHUFFLE	COMPRESS_BYTE_COUNT	734732
+SHUFFLE	COPY_MAP_DATA	61569000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5069300
+SHUFFLE	COMPRESS_BYTE_COUNT	743540
+SHUFFLE	COPY_MAP_DATA	279780000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5062772
+SHUFFLE	COMPRESS_BYTE_COUNT	743008
+SHUFFLE	COPY_MAP_DATA	246449000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5025338
+SHUFFLE	COMPRESS_BYTE_COUNT	737510
+SHUFFLE	COPY_MAP_DATA	46198000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5053592
+SHUFFLE	COMPRESS_BYTE_COUNT	741376
+SHUFFLE	COPY_MAP_DATA	51917000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5009324
+SHUFFLE	COMPRESS_BYTE_COUNT	735104
+SHUFFLE	COPY_MAP_DATA	44434000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5082560
+SHUFFLE	COMPRESS_BYTE_COUNT	745845
+SHUFFLE	COPY_MAP_DATA	253359000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5064914
+SHUFFLE	COMPRESS_BYTE_COUNT	743290
+SHUFFLE	COPY_MAP_DATA	54694000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5041148
+SHUFFLE	COMPRESS_BYTE_COUNT	739209
+SHUFFLE	COPY_MAP_DATA	54229000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5033396
+SHUFFLE	COMPRESS_BYTE_COUNT	738609
+SHUFFLE	COPY_MAP_DATA	53207000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5050124
+SHUFFLE	COMPRESS_BYTE_COUNT	740942
+SHUFFLE	COPY_MAP_DATA	165384000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5028500
+SHUFFLE	COMPRESS_BYTE_COUNT	737748
+SHUFFLE	COPY_MAP_DATA	51593000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5058794
+SHUFFLE	COMPRESS_BYTE_COUNT	741779
+SHUFFLE	COPY_MAP_DATA	334613000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5057876
+SHUFFLE	COMPRESS_BYTE_COUNT	741720
+SHUFFLE	COPY_MAP_DATA	93074000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5073686
+SHUFFLE	COMPRESS_BYTE_COUNT	744416
+SHUFFLE	COPY_MAP_DATA	187936000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5002898
+SHUFFLE	COMPRESS_BYTE_COUNT	734010
+SHUFFLE	COPY_MAP_DATA	45506000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5041556
+SHUFFLE	COMPRESS_BYTE_COUNT	739296
+SHUFFLE	COPY_MAP_DATA	45171000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5037476
+SHUFFLE	COMPRESS_BYTE_COUNT	739130
+SHUFFLE	COPY_MAP_DATA	82537000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4984538
+SHUFFLE	COMPRESS_BYTE_COUNT	731492
+SHUFFLE	COPY_MAP_DATA	121037000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5003102
+SHUFFLE	COMPRESS_BYTE_COUNT	734231
+SHUFFLE	COPY_MAP_DATA	51525000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5019218
+SHUFFLE	COMPRESS_BYTE_COUNT	736691
+SHUFFLE	COPY_MAP_DATA	214159000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5042882
+SHUFFLE	COMPRESS_BYTE_COUNT	739480
+SHUFFLE	COPY_MAP_DATA	51990000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5031356
+SHUFFLE	COMPRESS_BYTE_COUNT	738125
+SHUFFLE	COPY_MAP_DATA	428709000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5032376
+SHUFFLE	COMPRESS_BYTE_COUNT	737998
+SHUFFLE	COPY_MAP_DATA	51559000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5056856
+SHUFFLE	COMPRESS_BYTE_COUNT	741857
+SHUFFLE	COPY_MAP_DATA	48258000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5054816
+SHUFFLE	COMPRESS_BYTE_COUNT	741275
+SHUFFLE	COPY_MAP_DATA	54933000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5070626
+SHUFFLE	COMPRESS_BYTE_COUNT	744054
+SHUFFLE	COPY_MAP_DATA	124505000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5038904
+SHUFFLE	COMPRESS_BYTE_COUNT	739248
+SHUFFLE	COPY_MAP_DATA	2422280000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5080214
+SHUFFLE	COMPRESS_BYTE_COUNT	745359
+SHUFFLE	COPY_MAP_DATA	132689000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5070524
+SHUFFLE	COMPRESS_BYTE_COUNT	743498
+SHUFFLE	COPY_MAP_DATA	46396000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5038394
+SHUFFLE	COMPRESS_BYTE_COUNT	739477
+SHUFFLE	COPY_MAP_DATA	48858000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5018504
+SHUFFLE	COMPRESS_BYTE_COUNT	735945
+SHUFFLE	COPY_MAP_DATA	181802000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5052674
+SHUFFLE	COMPRESS_BYTE_COUNT	741542
+SHUFFLE	COPY_MAP_DATA	167864000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5080928
+SHUFFLE	COMPRESS_BYTE_COUNT	745440
+SHUFFLE	COPY_MAP_DATA	48004000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5068790
+SHUFFLE	COMPRESS_BYTE_COUNT	743130
+SHUFFLE	COPY_MAP_DATA	117878000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5051144
+SHUFFLE	COMPRESS_BYTE_COUNT	736590
+SHUFFLE	COPY_MAP_DATA	126001000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5052470
+SHUFFLE	COMPRESS_BYTE_COUNT	741097
+SHUFFLE	COPY_MAP_DATA	81920000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4981682
+SHUFFLE	COMPRESS_BYTE_COUNT	731325
+SHUFFLE	COPY_MAP_DATA	63531000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5074196
+SHUFFLE	COMPRESS_BYTE_COUNT	744008
+SHUFFLE	COPY_MAP_DATA	87159000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5034314
+SHUFFLE	COMPRESS_BYTE_COUNT	738416
+SHUFFLE	COPY_MAP_DATA	1316243000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5039924
+SHUFFLE	COMPRESS_BYTE_COUNT	739298
+SHUFFLE	COPY_MAP_DATA	4095165000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5054918
+SHUFFLE	COMPRESS_BYTE_COUNT	741722
+SHUFFLE	COPY_MAP_DATA	359443000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5055530
+SHUFFLE	COMPRESS_BYTE_COUNT	741220
+SHUFFLE	COPY_MAP_DATA	64181000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5080010
+SHUFFLE	COMPRESS_BYTE_COUNT	745530
+SHUFFLE	COPY_MAP_DATA	136101000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5036456
+SHUFFLE	COMPRESS_BYTE_COUNT	739111
+SHUFFLE	COPY_MAP_DATA	47602000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5061140
+SHUFFLE	COMPRESS_BYTE_COUNT	742619
+SHUFFLE	COPY_MAP_DATA	1561753000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5048594
+SHUFFLE	COMPRESS_BYTE_COUNT	740538
+SHUFFLE	COPY_MAP_DATA	89187000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5031662
+SHUFFLE	COMPRESS_BYTE_COUNT	737913
+SHUFFLE	COPY_MAP_DATA	370157000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5050940
+SHUFFLE	COMPRESS_BYTE_COUNT	740947
+SHUFFLE	COPY_MAP_DATA	48792000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5068178
+SHUFFLE	COMPRESS_BYTE_COUNT	743521
+SHUFFLE	COPY_MAP_DATA	46317000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5028500
+SHUFFLE	COMPRESS_BYTE_COUNT	737860
+SHUFFLE	COPY_MAP_DATA	70562000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5036966
+SHUFFLE	COMPRESS_BYTE_COUNT	738815
+SHUFFLE	COPY_MAP_DATA	48523000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5042066
+SHUFFLE	COMPRESS_BYTE_COUNT	740098
+SHUFFLE	COPY_MAP_DATA	52988000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5048696
+SHUFFLE	COMPRESS_BYTE_COUNT	740887
+SHUFFLE	COPY_MAP_DATA	2398889000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5017994
+SHUFFLE	COMPRESS_BYTE_COUNT	736507
+SHUFFLE	COPY_MAP_DATA	288426000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5056244
+SHUFFLE	COMPRESS_BYTE_COUNT	741972
+SHUFFLE	COPY_MAP_DATA	701571000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5067872
+SHUFFLE	COMPRESS_BYTE_COUNT	743312
+SHUFFLE	COPY_MAP_DATA	319524000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5020034
+SHUFFLE	COMPRESS_BYTE_COUNT	736415
+SHUFFLE	COPY_MAP_DATA	6860915000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5049104
+SHUFFLE	COMPRESS_BYTE_COUNT	740744
+SHUFFLE	COPY_MAP_DATA	6711712000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5056346
+SHUFFLE	COMPRESS_BYTE_COUNT	741895
+SHUFFLE	COPY_MAP_DATA	292424000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5049920
+SHUFFLE	COMPRESS_BYTE_COUNT	740695
+SHUFFLE	COPY_MAP_DATA	235756000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5026970
+SHUFFLE	COMPRESS_BYTE_COUNT	737351
+SHUFFLE	COPY_MAP_DATA	675901000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5034212
+SHUFFLE	COMPRESS_BYTE_COUNT	738567
+SHUFFLE	COPY_MAP_DATA	63585000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5061752
+SHUFFLE	COMPRESS_BYTE_COUNT	742411
+SHUFFLE	COPY_MAP_DATA	139708000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5035334
+SHUFFLE	COMPRESS_BYTE_COUNT	738851
+SHUFFLE	COPY_MAP_DATA	137777000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5079908
+SHUFFLE	COMPRESS_BYTE_COUNT	745336
+SHUFFLE	COPY_MAP_DATA	46086000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5001062
+SHUFFLE	COMPRESS_BYTE_COUNT	734225
+SHUFFLE	COPY_MAP_DATA	48457000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5075726
+SHUFFLE	COMPRESS_BYTE_COUNT	744390
+SHUFFLE	COPY_MAP_DATA	9258039000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5030234
+SHUFFLE	COMPRESS_BYTE_COUNT	737802
+SHUFFLE	COPY_MAP_DATA	125321000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5053694
+SHUFFLE	COMPRESS_BYTE_COUNT	741294
+SHUFFLE	COPY_MAP_DATA	8060801000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5062670
+SHUFFLE	COMPRESS_BYTE_COUNT	742205
+SHUFFLE	COPY_MAP_DATA	3213845646
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5023400
+SHUFFLE	COMPRESS_BYTE_COUNT	737302
+SHUFFLE	COPY_MAP_DATA	50143000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5066546
+SHUFFLE	COMPRESS_BYTE_COUNT	742924
+SHUFFLE	COPY_MAP_DATA	824284000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5045738
+SHUFFLE	COMPRESS_BYTE_COUNT	740364
+SHUFFLE	COPY_MAP_DATA	94419000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5077562
+SHUFFLE	COMPRESS_BYTE_COUNT	744584
+SHUFFLE	COPY_MAP_DATA	139419000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5046248
+SHUFFLE	COMPRESS_BYTE_COUNT	740593
+SHUFFLE	COPY_MAP_DATA	47540000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5051246
+SHUFFLE	COMPRESS_BYTE_COUNT	740913
+SHUFFLE	COPY_MAP_DATA	367639000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5046452
+SHUFFLE	COMPRESS_BYTE_COUNT	740552
+SHUFFLE	COPY_MAP_DATA	132399000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5036762
+SHUFFLE	COMPRESS_BYTE_COUNT	738828
+SHUFFLE	COPY_MAP_DATA	46248000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5034926
+SHUFFLE	COMPRESS_BYTE_COUNT	738920
+SHUFFLE	COPY_MAP_DATA	251801000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5063282
+SHUFFLE	COMPRESS_BYTE_COUNT	742498
+SHUFFLE	COPY_MAP_DATA	44289000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5021870
+SHUFFLE	COMPRESS_BYTE_COUNT	736250
+SHUFFLE	COPY_MAP_DATA	58379000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5049716
+SHUFFLE	COMPRESS_BYTE_COUNT	740800
+SHUFFLE	COPY_MAP_DATA	105070000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5068178
+SHUFFLE	COMPRESS_BYTE_COUNT	743319
+SHUFFLE	COPY_MAP_DATA	63715000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5045942
+SHUFFLE	COMPRESS_BYTE_COUNT	740340
+SHUFFLE	COPY_MAP_DATA	74133000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5015342
+SHUFFLE	COMPRESS_BYTE_COUNT	736106
+SHUFFLE	COPY_MAP_DATA	47975000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5023604
+SHUFFLE	COMPRESS_BYTE_COUNT	736853
+SHUFFLE	COPY_MAP_DATA	44240000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5067056
+SHUFFLE	COMPRESS_BYTE_COUNT	743693
+SHUFFLE	COPY_MAP_DATA	60009000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5017688
+SHUFFLE	COMPRESS_BYTE_COUNT	736533
+SHUFFLE	COPY_MAP_DATA	44953000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5083070
+SHUFFLE	COMPRESS_BYTE_COUNT	745440
+SHUFFLE	COPY_MAP_DATA	45171000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5083682
+SHUFFLE	COMPRESS_BYTE_COUNT	745773
+SHUFFLE	COPY_MAP_DATA	111866000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5060528
+SHUFFLE	COMPRESS_BYTE_COUNT	742087
+SHUFFLE	COPY_MAP_DATA	245507000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5066750
+SHUFFLE	COMPRESS_BYTE_COUNT	743515
+SHUFFLE	COPY_MAP_DATA	305334000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5073992
+SHUFFLE	COMPRESS_BYTE_COUNT	743899
+SHUFFLE	COPY_MAP_DATA	113504000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5048492
+SHUFFLE	COMPRESS_BYTE_COUNT	740359
+SHUFFLE	COPY_MAP_DATA	189765000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5048084
+SHUFFLE	COMPRESS_BYTE_COUNT	740636
+SHUFFLE	COPY_MAP_DATA	118545000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5073176
+SHUFFLE	COMPRESS_BYTE_COUNT	744338
+SHUFFLE	COPY_MAP_DATA	126943000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5047064
+SHUFFLE	COMPRESS_BYTE_COUNT	740746
+SHUFFLE	COPY_MAP_DATA	52847000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5041046
+SHUFFLE	COMPRESS_BYTE_COUNT	739590
+SHUFFLE	COPY_MAP_DATA	52637000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5045534
+SHUFFLE	COMPRESS_BYTE_COUNT	740518
+SHUFFLE	COPY_MAP_DATA	51842000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5042576
+SHUFFLE	COMPRESS_BYTE_COUNT	739932
+SHUFFLE	COPY_MAP_DATA	51769000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5059406
+SHUFFLE	COMPRESS_BYTE_COUNT	742066
+SHUFFLE	COPY_MAP_DATA	102807000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5055836
+SHUFFLE	COMPRESS_BYTE_COUNT	741515
+SHUFFLE	COPY_MAP_DATA	108503000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5042372
+SHUFFLE	COMPRESS_BYTE_COUNT	740108
+SHUFFLE	COPY_MAP_DATA	3233046000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5047472
+SHUFFLE	COMPRESS_BYTE_COUNT	740617
+SHUFFLE	COPY_MAP_DATA	44652000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5050430
+SHUFFLE	COMPRESS_BYTE_COUNT	740690
+SHUFFLE	COPY_MAP_DATA	2060460000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5047880
+SHUFFLE	COMPRESS_BYTE_COUNT	740478
+SHUFFLE	COPY_MAP_DATA	254596000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5045636
+SHUFFLE	COMPRESS_BYTE_COUNT	739919
+SHUFFLE	COPY_MAP_DATA	285000000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5032478
+SHUFFLE	COMPRESS_BYTE_COUNT	738016
+SHUFFLE	COPY_MAP_DATA	5346955000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5047064
+SHUFFLE	COMPRESS_BYTE_COUNT	740234
+SHUFFLE	COPY_MAP_DATA	48762000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5009732
+SHUFFLE	COMPRESS_BYTE_COUNT	735213
+SHUFFLE	COPY_MAP_DATA	2578432000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5037680
+SHUFFLE	COMPRESS_BYTE_COUNT	738769
+SHUFFLE	COPY_MAP_DATA	47495000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5039210
+SHUFFLE	COMPRESS_BYTE_COUNT	739643
+SHUFFLE	COPY_MAP_DATA	347138000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5051552
+SHUFFLE	COMPRESS_BYTE_COUNT	741194
+SHUFFLE	COPY_MAP_DATA	47876000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5085212
+SHUFFLE	COMPRESS_BYTE_COUNT	746116
+SHUFFLE	COPY_MAP_DATA	52576000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5074604
+SHUFFLE	COMPRESS_BYTE_COUNT	744209
+SHUFFLE	COPY_MAP_DATA	48080000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5012894
+SHUFFLE	COMPRESS_BYTE_COUNT	735658
+SHUFFLE	COPY_MAP_DATA	121141000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5080826
+SHUFFLE	COMPRESS_BYTE_COUNT	745146
+SHUFFLE	COPY_MAP_DATA	62322000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5041046
+SHUFFLE	COMPRESS_BYTE_COUNT	739280
+SHUFFLE	COPY_MAP_DATA	49250000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5058590
+SHUFFLE	COMPRESS_BYTE_COUNT	735077
+SHUFFLE	COPY_MAP_DATA	87450000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5035538
+SHUFFLE	COMPRESS_BYTE_COUNT	738653
+SHUFFLE	COPY_MAP_DATA	47451000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5078888
+SHUFFLE	COMPRESS_BYTE_COUNT	744801
+SHUFFLE	COPY_MAP_DATA	45715000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5025950
+SHUFFLE	COMPRESS_BYTE_COUNT	737561
+SHUFFLE	COPY_MAP_DATA	169524000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5018810
+SHUFFLE	COMPRESS_BYTE_COUNT	736360
+SHUFFLE	COPY_MAP_DATA	55919000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5053388
+SHUFFLE	COMPRESS_BYTE_COUNT	741281
+SHUFFLE	COPY_MAP_DATA	120451000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5055836
+SHUFFLE	COMPRESS_BYTE_COUNT	741657
+SHUFFLE	COPY_MAP_DATA	47637000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5044820
+SHUFFLE	COMPRESS_BYTE_COUNT	740134
+SHUFFLE	COPY_MAP_DATA	110238000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5051654
+SHUFFLE	COMPRESS_BYTE_COUNT	740893
+SHUFFLE	COPY_MAP_DATA	52082000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1181672
+SHUFFLE	COMPRESS_BYTE_COUNT	171546
+SHUFFLE	COPY_MAP_DATA	13490000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5032172
+SHUFFLE	COMPRESS_BYTE_COUNT	737888
+SHUFFLE	COPY_MAP_DATA	469379000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5048186
+SHUFFLE	COMPRESS_BYTE_COUNT	740199
+SHUFFLE	COPY_MAP_DATA	47112000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5030744
+SHUFFLE	COMPRESS_BYTE_COUNT	737662
+SHUFFLE	COPY_MAP_DATA	47907000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1171064
+SHUFFLE	COMPRESS_BYTE_COUNT	170101
+SHUFFLE	COPY_MAP_DATA	13424000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5073584
+SHUFFLE	COMPRESS_BYTE_COUNT	744324
+SHUFFLE	COPY_MAP_DATA	5702600000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1185956
+SHUFFLE	COMPRESS_BYTE_COUNT	172151
+SHUFFLE	COPY_MAP_DATA	12669000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5015750
+SHUFFLE	COMPRESS_BYTE_COUNT	735998
+SHUFFLE	COPY_MAP_DATA	46516000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5060630
+SHUFFLE	COMPRESS_BYTE_COUNT	742612
+SHUFFLE	COPY_MAP_DATA	48644000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5062874
+SHUFFLE	COMPRESS_BYTE_COUNT	742911
+SHUFFLE	COPY_MAP_DATA	49459000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5034416
+SHUFFLE	COMPRESS_BYTE_COUNT	738584
+SHUFFLE	COPY_MAP_DATA	45479000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5051450
+SHUFFLE	COMPRESS_BYTE_COUNT	741281
+SHUFFLE	COPY_MAP_DATA	66725000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5057264
+SHUFFLE	COMPRESS_BYTE_COUNT	741725
+SHUFFLE	COPY_MAP_DATA	129035000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5041862
+SHUFFLE	COMPRESS_BYTE_COUNT	739491
+SHUFFLE	COPY_MAP_DATA	47252000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1195544
+SHUFFLE	COMPRESS_BYTE_COUNT	173620
+SHUFFLE	COPY_MAP_DATA	14325000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5046860
+SHUFFLE	COMPRESS_BYTE_COUNT	740398
+SHUFFLE	COPY_MAP_DATA	285127000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5051756
+SHUFFLE	COMPRESS_BYTE_COUNT	741131
+SHUFFLE	COPY_MAP_DATA	46415000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5060732
+SHUFFLE	COMPRESS_BYTE_COUNT	741950
+SHUFFLE	COPY_MAP_DATA	47808000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1191668
+SHUFFLE	COMPRESS_BYTE_COUNT	172892
+SHUFFLE	COPY_MAP_DATA	13894000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5037578
+SHUFFLE	COMPRESS_BYTE_COUNT	738792
+SHUFFLE	COPY_MAP_DATA	300279000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5012078
+SHUFFLE	COMPRESS_BYTE_COUNT	735323
+SHUFFLE	COPY_MAP_DATA	150445000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5065934
+SHUFFLE	COMPRESS_BYTE_COUNT	743439
+SHUFFLE	COPY_MAP_DATA	166878000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5019830
+SHUFFLE	COMPRESS_BYTE_COUNT	736277
+SHUFFLE	COPY_MAP_DATA	48689000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5028194
+SHUFFLE	COMPRESS_BYTE_COUNT	737735
+SHUFFLE	COPY_MAP_DATA	67936000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1164944
+SHUFFLE	COMPRESS_BYTE_COUNT	169257
+SHUFFLE	COPY_MAP_DATA	14147000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5078276
+SHUFFLE	COMPRESS_BYTE_COUNT	744792
+SHUFFLE	COPY_MAP_DATA	976283000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5081336
+SHUFFLE	COMPRESS_BYTE_COUNT	745645
+SHUFFLE	COPY_MAP_DATA	189525000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5062568
+SHUFFLE	COMPRESS_BYTE_COUNT	742345
+SHUFFLE	COPY_MAP_DATA	134276000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1205234
+SHUFFLE	COMPRESS_BYTE_COUNT	175025
+SHUFFLE	COPY_MAP_DATA	15109000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5010446
+SHUFFLE	COMPRESS_BYTE_COUNT	734873
+SHUFFLE	COPY_MAP_DATA	5792307000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1204010
+SHUFFLE	COMPRESS_BYTE_COUNT	174712
+SHUFFLE	COPY_MAP_DATA	606116000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5050226
+SHUFFLE	COMPRESS_BYTE_COUNT	741261
+SHUFFLE	COPY_MAP_DATA	118420000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5032172
+SHUFFLE	COMPRESS_BYTE_COUNT	737938
+SHUFFLE	COPY_MAP_DATA	3977391000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5087150
+SHUFFLE	COMPRESS_BYTE_COUNT	746589
+SHUFFLE	COPY_MAP_DATA	86583000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5040638
+SHUFFLE	COMPRESS_BYTE_COUNT	739639
+SHUFFLE	COPY_MAP_DATA	159757000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1168514
+SHUFFLE	COMPRESS_BYTE_COUNT	169698
+SHUFFLE	COPY_MAP_DATA	3779937000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5037068
+SHUFFLE	COMPRESS_BYTE_COUNT	739119
+SHUFFLE	COPY_MAP_DATA	7417823000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5063384
+SHUFFLE	COMPRESS_BYTE_COUNT	742665
+SHUFFLE	COPY_MAP_DATA	100711000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5059610
+SHUFFLE	COMPRESS_BYTE_COUNT	742279
+SHUFFLE	COPY_MAP_DATA	51294000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5032070
+SHUFFLE	COMPRESS_BYTE_COUNT	737907
+SHUFFLE	COPY_MAP_DATA	1808494000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5043086
+SHUFFLE	COMPRESS_BYTE_COUNT	740040
+SHUFFLE	COPY_MAP_DATA	302143000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1172900
+SHUFFLE	COMPRESS_BYTE_COUNT	170287
+SHUFFLE	COPY_MAP_DATA	26106000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5051654
+SHUFFLE	COMPRESS_BYTE_COUNT	741115
+SHUFFLE	COPY_MAP_DATA	106154000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1162904
+SHUFFLE	COMPRESS_BYTE_COUNT	168951
+SHUFFLE	COPY_MAP_DATA	12071000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5031866
+SHUFFLE	COMPRESS_BYTE_COUNT	738048
+SHUFFLE	COPY_MAP_DATA	46872000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1175042
+SHUFFLE	COMPRESS_BYTE_COUNT	170545
+SHUFFLE	COPY_MAP_DATA	285622000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5031254
+SHUFFLE	COMPRESS_BYTE_COUNT	738353
+SHUFFLE	COPY_MAP_DATA	202724000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5008712
+SHUFFLE	COMPRESS_BYTE_COUNT	734631
+SHUFFLE	COPY_MAP_DATA	46522000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5074910
+SHUFFLE	COMPRESS_BYTE_COUNT	744453
+SHUFFLE	COPY_MAP_DATA	663004000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1190546
+SHUFFLE	COMPRESS_BYTE_COUNT	172859
+SHUFFLE	COPY_MAP_DATA	306711000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1196156
+SHUFFLE	COMPRESS_BYTE_COUNT	173627
+SHUFFLE	COPY_MAP_DATA	16685000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1188200
+SHUFFLE	COMPRESS_BYTE_COUNT	172573
+SHUFFLE	COPY_MAP_DATA	121683000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5004122
+SHUFFLE	COMPRESS_BYTE_COUNT	734674
+SHUFFLE	COPY_MAP_DATA	55674000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1174736
+SHUFFLE	COMPRESS_BYTE_COUNT	170636
+SHUFFLE	COPY_MAP_DATA	45088000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1170146
+SHUFFLE	COMPRESS_BYTE_COUNT	169893
+SHUFFLE	COPY_MAP_DATA	161387000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1180652
+SHUFFLE	COMPRESS_BYTE_COUNT	171425
+SHUFFLE	COPY_MAP_DATA	12400000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5038802
+SHUFFLE	COMPRESS_BYTE_COUNT	739683
+SHUFFLE	COPY_MAP_DATA	48140000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1201052
+SHUFFLE	COMPRESS_BYTE_COUNT	174359
+SHUFFLE	COPY_MAP_DATA	79995000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1184936
+SHUFFLE	COMPRESS_BYTE_COUNT	172047
+SHUFFLE	COPY_MAP_DATA	55136000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5018198
+SHUFFLE	COMPRESS_BYTE_COUNT	735975
+SHUFFLE	COPY_MAP_DATA	52131000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1182182
+SHUFFLE	COMPRESS_BYTE_COUNT	171588
+SHUFFLE	COPY_MAP_DATA	1779547000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5059508
+SHUFFLE	COMPRESS_BYTE_COUNT	742734
+SHUFFLE	COPY_MAP_DATA	46322000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1189322
+SHUFFLE	COMPRESS_BYTE_COUNT	172741
+SHUFFLE	COPY_MAP_DATA	48877000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1192994
+SHUFFLE	COMPRESS_BYTE_COUNT	173265
+SHUFFLE	COPY_MAP_DATA	1601606000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1175042
+SHUFFLE	COMPRESS_BYTE_COUNT	170762
+SHUFFLE	COPY_MAP_DATA	11525693000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1196156
+SHUFFLE	COMPRESS_BYTE_COUNT	173672
+SHUFFLE	COPY_MAP_DATA	96504000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5018096
+SHUFFLE	COMPRESS_BYTE_COUNT	736390
+SHUFFLE	COPY_MAP_DATA	433625000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5023400
+SHUFFLE	COMPRESS_BYTE_COUNT	736961
+SHUFFLE	COPY_MAP_DATA	161295000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5038088
+SHUFFLE	COMPRESS_BYTE_COUNT	739452
+SHUFFLE	COPY_MAP_DATA	72842000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1177592
+SHUFFLE	COMPRESS_BYTE_COUNT	171018
+SHUFFLE	COPY_MAP_DATA	12666000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1199624
+SHUFFLE	COMPRESS_BYTE_COUNT	174256
+SHUFFLE	COPY_MAP_DATA	15022000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1186874
+SHUFFLE	COMPRESS_BYTE_COUNT	172271
+SHUFFLE	COPY_MAP_DATA	12971000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1174940
+SHUFFLE	COMPRESS_BYTE_COUNT	170661
+SHUFFLE	COPY_MAP_DATA	104957000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5051144
+SHUFFLE	COMPRESS_BYTE_COUNT	740705
+SHUFFLE	COPY_MAP_DATA	2217374000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5069300
+SHUFFLE	COMPRESS_BYTE_COUNT	743529
+SHUFFLE	COPY_MAP_DATA	86024000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1179938
+SHUFFLE	COMPRESS_BYTE_COUNT	171335
+SHUFFLE	COPY_MAP_DATA	21082000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1201358
+SHUFFLE	COMPRESS_BYTE_COUNT	174448
+SHUFFLE	COPY_MAP_DATA	14320000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1179224
+SHUFFLE	COMPRESS_BYTE_COUNT	171205
+SHUFFLE	COPY_MAP_DATA	46936000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4990046
+SHUFFLE	COMPRESS_BYTE_COUNT	732173
+SHUFFLE	COPY_MAP_DATA	82286000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1179224
+SHUFFLE	COMPRESS_BYTE_COUNT	171118
+SHUFFLE	COPY_MAP_DATA	72384000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1210538
+SHUFFLE	COMPRESS_BYTE_COUNT	175687
+SHUFFLE	COPY_MAP_DATA	1095379000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1186160
+SHUFFLE	COMPRESS_BYTE_COUNT	172368
+SHUFFLE	COPY_MAP_DATA	49415000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1203908
+SHUFFLE	COMPRESS_BYTE_COUNT	174748
+SHUFFLE	COPY_MAP_DATA	11954000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1190852
+SHUFFLE	COMPRESS_BYTE_COUNT	172873
+SHUFFLE	COPY_MAP_DATA	17375000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5018096
+SHUFFLE	COMPRESS_BYTE_COUNT	736426
+SHUFFLE	COPY_MAP_DATA	134450000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1169432
+SHUFFLE	COMPRESS_BYTE_COUNT	169812
+SHUFFLE	COPY_MAP_DATA	2428971000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4997186
+SHUFFLE	COMPRESS_BYTE_COUNT	733248
+SHUFFLE	COPY_MAP_DATA	274173000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1165556
+SHUFFLE	COMPRESS_BYTE_COUNT	169279
+SHUFFLE	COPY_MAP_DATA	13695000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5023604
+SHUFFLE	COMPRESS_BYTE_COUNT	737410
+SHUFFLE	COPY_MAP_DATA	48507000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1179632
+SHUFFLE	COMPRESS_BYTE_COUNT	171295
+SHUFFLE	COPY_MAP_DATA	35583000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1186364
+SHUFFLE	COMPRESS_BYTE_COUNT	172294
+SHUFFLE	COPY_MAP_DATA	307369000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1196156
+SHUFFLE	COMPRESS_BYTE_COUNT	173757
+SHUFFLE	COPY_MAP_DATA	12812000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1175246
+SHUFFLE	COMPRESS_BYTE_COUNT	170640
+SHUFFLE	COPY_MAP_DATA	126859000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1172594
+SHUFFLE	COMPRESS_BYTE_COUNT	170295
+SHUFFLE	COPY_MAP_DATA	1014063000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1201766
+SHUFFLE	COMPRESS_BYTE_COUNT	174545
+SHUFFLE	COPY_MAP_DATA	29846000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1175960
+SHUFFLE	COMPRESS_BYTE_COUNT	170648
+SHUFFLE	COPY_MAP_DATA	38431000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5056142
+SHUFFLE	COMPRESS_BYTE_COUNT	742083
+SHUFFLE	COPY_MAP_DATA	120292000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1191566
+SHUFFLE	COMPRESS_BYTE_COUNT	173073
+SHUFFLE	COPY_MAP_DATA	19411000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1188914
+SHUFFLE	COMPRESS_BYTE_COUNT	172543
+SHUFFLE	COPY_MAP_DATA	16435000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1183100
+SHUFFLE	COMPRESS_BYTE_COUNT	171730
+SHUFFLE	COPY_MAP_DATA	103937000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5065322
+SHUFFLE	COMPRESS_BYTE_COUNT	743011
+SHUFFLE	COPY_MAP_DATA	3338037000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1161170
+SHUFFLE	COMPRESS_BYTE_COUNT	168712
+SHUFFLE	COPY_MAP_DATA	163494000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1196564
+SHUFFLE	COMPRESS_BYTE_COUNT	173894
+SHUFFLE	COPY_MAP_DATA	12953000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5063792
+SHUFFLE	COMPRESS_BYTE_COUNT	742587
+SHUFFLE	COPY_MAP_DATA	20457208000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1177286
+SHUFFLE	COMPRESS_BYTE_COUNT	170868
+SHUFFLE	COPY_MAP_DATA	12367000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1196564
+SHUFFLE	COMPRESS_BYTE_COUNT	173734
+SHUFFLE	COPY_MAP_DATA	12445000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5046146
+SHUFFLE	COMPRESS_BYTE_COUNT	740141
+SHUFFLE	COPY_MAP_DATA	44778000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5066138
+SHUFFLE	COMPRESS_BYTE_COUNT	743510
+SHUFFLE	COPY_MAP_DATA	44643000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1201562
+SHUFFLE	COMPRESS_BYTE_COUNT	174456
+SHUFFLE	COPY_MAP_DATA	28899000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1192484
+SHUFFLE	COMPRESS_BYTE_COUNT	173249
+SHUFFLE	COPY_MAP_DATA	12668000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1181774
+SHUFFLE	COMPRESS_BYTE_COUNT	171618
+SHUFFLE	COPY_MAP_DATA	11692000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1200134
+SHUFFLE	COMPRESS_BYTE_COUNT	174241
+SHUFFLE	COPY_MAP_DATA	13081000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1178612
+SHUFFLE	COMPRESS_BYTE_COUNT	171126
+SHUFFLE	COPY_MAP_DATA	142357000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1187486
+SHUFFLE	COMPRESS_BYTE_COUNT	172477
+SHUFFLE	COPY_MAP_DATA	11383000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1180142
+SHUFFLE	COMPRESS_BYTE_COUNT	171453
+SHUFFLE	COPY_MAP_DATA	12682000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1186670
+SHUFFLE	COMPRESS_BYTE_COUNT	172393
+SHUFFLE	COPY_MAP_DATA	12748000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1186976
+SHUFFLE	COMPRESS_BYTE_COUNT	172288
+SHUFFLE	COPY_MAP_DATA	16341000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5028602
+SHUFFLE	COMPRESS_BYTE_COUNT	737702
+SHUFFLE	COPY_MAP_DATA	58652000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1177388
+SHUFFLE	COMPRESS_BYTE_COUNT	171074
+SHUFFLE	COPY_MAP_DATA	13079000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1191770
+SHUFFLE	COMPRESS_BYTE_COUNT	173157
+SHUFFLE	COPY_MAP_DATA	11539000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1206968
+SHUFFLE	COMPRESS_BYTE_COUNT	175316
+SHUFFLE	COPY_MAP_DATA	11670000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1174634
+SHUFFLE	COMPRESS_BYTE_COUNT	170359
+SHUFFLE	COPY_MAP_DATA	11537000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1184426
+SHUFFLE	COMPRESS_BYTE_COUNT	172061
+SHUFFLE	COPY_MAP_DATA	11128000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1201154
+SHUFFLE	COMPRESS_BYTE_COUNT	174200
+SHUFFLE	COPY_MAP_DATA	11726000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1173716
+SHUFFLE	COMPRESS_BYTE_COUNT	170531
+SHUFFLE	COPY_MAP_DATA	11663000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1192994
+SHUFFLE	COMPRESS_BYTE_COUNT	173251
+SHUFFLE	COPY_MAP_DATA	12272000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1187384
+SHUFFLE	COMPRESS_BYTE_COUNT	172369
+SHUFFLE	COPY_MAP_DATA	29532000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1179530
+SHUFFLE	COMPRESS_BYTE_COUNT	171234
+SHUFFLE	COPY_MAP_DATA	11877000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1184834
+SHUFFLE	COMPRESS_BYTE_COUNT	171957
+SHUFFLE	COPY_MAP_DATA	11637000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1173512
+SHUFFLE	COMPRESS_BYTE_COUNT	170506
+SHUFFLE	COPY_MAP_DATA	11471000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1194320
+SHUFFLE	COMPRESS_BYTE_COUNT	173322
+SHUFFLE	COPY_MAP_DATA	11656000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1172288
+SHUFFLE	COMPRESS_BYTE_COUNT	170283
+SHUFFLE	COPY_MAP_DATA	11511000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1169534
+SHUFFLE	COMPRESS_BYTE_COUNT	169746
+SHUFFLE	COPY_MAP_DATA	11331000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1183100
+SHUFFLE	COMPRESS_BYTE_COUNT	171819
+SHUFFLE	COPY_MAP_DATA	11609000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1182590
+SHUFFLE	COMPRESS_BYTE_COUNT	171752
+SHUFFLE	COPY_MAP_DATA	11460000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1186670
+SHUFFLE	COMPRESS_BYTE_COUNT	172419
+SHUFFLE	COPY_MAP_DATA	31308000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1170146
+SHUFFLE	COMPRESS_BYTE_COUNT	170042
+SHUFFLE	COPY_MAP_DATA	11535000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1193198
+SHUFFLE	COMPRESS_BYTE_COUNT	173231
+SHUFFLE	COPY_MAP_DATA	11449000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1215842
+SHUFFLE	COMPRESS_BYTE_COUNT	176398
+SHUFFLE	COPY_MAP_DATA	12019000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1194830
+SHUFFLE	COMPRESS_BYTE_COUNT	173505
+SHUFFLE	COPY_MAP_DATA	12828000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1173206
+SHUFFLE	COMPRESS_BYTE_COUNT	170274
+SHUFFLE	COPY_MAP_DATA	13101000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1180448
+SHUFFLE	COMPRESS_BYTE_COUNT	171456
+SHUFFLE	COPY_MAP_DATA	12132000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1189424
+SHUFFLE	COMPRESS_BYTE_COUNT	172827
+SHUFFLE	COPY_MAP_DATA	141244000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1190036
+SHUFFLE	COMPRESS_BYTE_COUNT	172779
+SHUFFLE	COPY_MAP_DATA	42454000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1189526
+SHUFFLE	COMPRESS_BYTE_COUNT	172661
+SHUFFLE	COPY_MAP_DATA	12599000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1197686
+SHUFFLE	COMPRESS_BYTE_COUNT	173988
+SHUFFLE	COPY_MAP_DATA	20240000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1184120
+SHUFFLE	COMPRESS_BYTE_COUNT	171808
+SHUFFLE	COPY_MAP_DATA	11437000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1172798
+SHUFFLE	COMPRESS_BYTE_COUNT	170099
+SHUFFLE	COPY_MAP_DATA	11739000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1206560
+SHUFFLE	COMPRESS_BYTE_COUNT	175189
+SHUFFLE	COPY_MAP_DATA	12549000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1171472
+SHUFFLE	COMPRESS_BYTE_COUNT	170241
+SHUFFLE	COPY_MAP_DATA	12119000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1204214
+SHUFFLE	COMPRESS_BYTE_COUNT	174700
+SHUFFLE	COPY_MAP_DATA	89376000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1200236
+SHUFFLE	COMPRESS_BYTE_COUNT	174323
+SHUFFLE	COPY_MAP_DATA	15297000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1191974
+SHUFFLE	COMPRESS_BYTE_COUNT	173176
+SHUFFLE	COPY_MAP_DATA	28196000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1189016
+SHUFFLE	COMPRESS_BYTE_COUNT	172610
+SHUFFLE	COPY_MAP_DATA	72639000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1183916
+SHUFFLE	COMPRESS_BYTE_COUNT	171841
+SHUFFLE	COPY_MAP_DATA	148038000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1185242
+SHUFFLE	COMPRESS_BYTE_COUNT	172158
+SHUFFLE	COPY_MAP_DATA	15319000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	304304849040
+MERGE	READ_WRITE	293874562040
+MERGE	READ_WRITE_COUNT	8
+MERGE	COMBINE	0
+MERGE	WRITE	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	978562000
+SORT	READ_WRITE	864703000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	207993664
+REDUCE	SETUP	367000
+REDUCE	SETUP_MEM	207993696
+REDUCE	CLEANUP	55000
+REDUCE	CLEANUP_MEM	197269824
+REDUCE	TOTAL_RUN	198786961193
+REDUCE	READ	22738860646
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	97219661596
+REDUCE	WRITE	38334535596
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	110560180
+REDUCE	VALUE_BYTE_COUNT	972929584
+REDUCE	REDUCE_MEM	197271872
+REDUCE	WRITE	7660000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	739640793895
@@ -0,0 +1,1229 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5029418
+SHUFFLE	COMPRESS_BYTE_COUNT	737218
+SHUFFLE	COPY_MAP_DATA	200315000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5054612
+SHUFFLE	COMPRESS_BYTE_COUNT	740880
+SHUFFLE	COPY_MAP_DATA	64576000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5041760
+SHUFFLE	COMPRESS_BYTE_COUNT	738495
+SHUFFLE	COPY_MAP_DATA	167976000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5023298
+SHUFFLE	COMPRESS_BYTE_COUNT	737280
+SHUFFLE	COPY_MAP_DATA	58627000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5037884
+SHUFFLE	COMPRESS_BYTE_COUNT	738536
+SHUFFLE	COPY_MAP_DATA	94807000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5058182
+SHUFFLE	COMPRESS_BYTE_COUNT	741402
+SHUFFLE	COPY_MAP_DATA	118045000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5066444
+SHUFFLE	COMPRESS_BYTE_COUNT	743072
+SHUFFLE	COPY_MAP_DATA	63498000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5067260
+SHUFFLE	COMPRESS_BYTE_COUNT	742978
+SHUFFLE	COPY_MAP_DATA	90106000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5021360
+SHUFFLE	COMPRESS_BYTE_COUNT	736721
+SHUFFLE	COPY_MAP_DATA	103969000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5019830
+SHUFFLE	COMPRESS_BYTE_COUNT	736551
+SHUFFLE	COPY_MAP_DATA	1751887000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5063894
+SHUFFLE	COMPRESS_BYTE_COUNT	742954
+SHUFFLE	COPY_MAP_DATA	48286000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5070116
+SHUFFLE	COMPRESS_BYTE_COUNT	743518
+SHUFFLE	COPY_MAP_DATA	110129000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5073176
+SHUFFLE	COMPRESS_BYTE_COUNT	744111
+SHUFFLE	COPY_MAP_DATA	54811000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5031662
+SHUFFLE	COMPRESS_BYTE_COUNT	737643
+SHUFFLE	COPY_MAP_DATA	128919000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5044310
+SHUFFLE	COMPRESS_BYTE_COUNT	739637
+SHUFFLE	COPY_MAP_DATA	50357000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5050838
+SHUFFLE	COMPRESS_BYTE_COUNT	740459
+SHUFFLE	COPY_MAP_DATA	113940000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5032274
+SHUFFLE	COMPRESS_BYTE_COUNT	737678
+SHUFFLE	COPY_MAP_DATA	194787000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5077154
+SHUFFLE	COMPRESS_BYTE_COUNT	744476
+SHUFFLE	COPY_MAP_DATA	217683000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5064098
+SHUFFLE	COMPRESS_BYTE_COUNT	742212
+SHUFFLE	COPY_MAP_DATA	276374000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5075930
+SHUFFLE	COMPRESS_BYTE_COUNT	744580
+SHUFFLE	COPY_MAP_DATA	199995000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5032886
+SHUFFLE	COMPRESS_BYTE_COUNT	737997
+SHUFFLE	COPY_MAP_DATA	289114000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5084396
+SHUFFLE	COMPRESS_BYTE_COUNT	745908
+SHUFFLE	COPY_MAP_DATA	47275000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5067872
+SHUFFLE	COMPRESS_BYTE_COUNT	743031
+SHUFFLE	COPY_MAP_DATA	129977000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5048900
+SHUFFLE	COMPRESS_BYTE_COUNT	740617
+SHUFFLE	COPY_MAP_DATA	57435000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5029316
+SHUFFLE	COMPRESS_BYTE_COUNT	737858
+SHUFFLE	COPY_MAP_DATA	81919000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5057978
+SHUFFLE	COMPRESS_BYTE_COUNT	741733
+SHUFFLE	COPY_MAP_DATA	49498000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5059610
+SHUFFLE	COMPRESS_BYTE_COUNT	742403
+SHUFFLE	COPY_MAP_DATA	47900000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5052266
+SHUFFLE	COMPRESS_BYTE_COUNT	740744
+SHUFFLE	COPY_MAP_DATA	3733732000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5009120
+SHUFFLE	COMPRESS_BYTE_COUNT	734932
+SHUFFLE	COPY_MAP_DATA	302027000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5091434
+SHUFFLE	COMPRESS_BYTE_COUNT	746425
+SHUFFLE	COPY_MAP_DATA	53146000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5024930
+SHUFFLE	COMPRESS_BYTE_COUNT	737447
+SHUFFLE	COPY_MAP_DATA	247417000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5052572
+SHUFFLE	COMPRESS_BYTE_COUNT	740721
+SHUFFLE	COPY_MAP_DATA	114231000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5062160
+SHUFFLE	COMPRESS_BYTE_COUNT	742563
+SHUFFLE	COPY_MAP_DATA	47653000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5028092
+SHUFFLE	COMPRESS_BYTE_COUNT	737320
+SHUFFLE	COPY_MAP_DATA	46104000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5044718
+SHUFFLE	COMPRESS_BYTE_COUNT	740126
+SHUFFLE	COPY_MAP_DATA	47322000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5034722
+SHUFFLE	COMPRESS_BYTE_COUNT	737983
+SHUFFLE	COPY_MAP_DATA	365901000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5043698
+SHUFFLE	COMPRESS_BYTE_COUNT	740134
+SHUFFLE	COPY_MAP_DATA	489731000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5059100
+SHUFFLE	COMPRESS_BYTE_COUNT	741546
+SHUFFLE	COPY_MAP_DATA	186718000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5062262
+SHUFFLE	COMPRESS_BYTE_COUNT	742335
+SHUFFLE	COPY_MAP_DATA	74843000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5036966
+SHUFFLE	COMPRESS_BYTE_COUNT	739007
+SHUFFLE	COPY_MAP_DATA	189785000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5046962
+SHUFFLE	COMPRESS_BYTE_COUNT	739848
+SHUFFLE	COPY_MAP_DATA	75279000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5015240
+SHUFFLE	COMPRESS_BYTE_COUNT	735746
+SHUFFLE	COPY_MAP_DATA	100175000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5002694
+SHUFFLE	COMPRESS_BYTE_COUNT	733888
+SHUFFLE	COPY_MAP_DATA	57169000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5053490
+SHUFFLE	COMPRESS_BYTE_COUNT	741128
+SHUFFLE	COPY_MAP_DATA	149684000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5037884
+SHUFFLE	COMPRESS_BYTE_COUNT	738930
+SHUFFLE	COPY_MAP_DATA	1020216000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5072870
+SHUFFLE	COMPRESS_BYTE_COUNT	743723
+SHUFFLE	COPY_MAP_DATA	189134000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5080724
+SHUFFLE	COMPRESS_BYTE_COUNT	744920
+SHUFFLE	COPY_MAP_DATA	179184000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5033192
+SHUFFLE	COMPRESS_BYTE_COUNT	738061
+SHUFFLE	COPY_MAP_DATA	219159000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5062670
+SHUFFLE	COMPRESS_BYTE_COUNT	742601
+SHUFFLE	COPY_MAP_DATA	169552000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5036660
+SHUFFLE	COMPRESS_BYTE_COUNT	738533
+SHUFFLE	COPY_MAP_DATA	167846000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5060630
+SHUFFLE	COMPRESS_BYTE_COUNT	742361
+SHUFFLE	COPY_MAP_DATA	311647000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5096738
+SHUFFLE	COMPRESS_BYTE_COUNT	747362
+SHUFFLE	COPY_MAP_DATA	3282848000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5037476
+SHUFFLE	COMPRESS_BYTE_COUNT	738564
+SHUFFLE	COPY_MAP_DATA	58172000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5060120
+SHUFFLE	COMPRESS_BYTE_COUNT	737559
+SHUFFLE	COPY_MAP_DATA	439674000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5032682
+SHUFFLE	COMPRESS_BYTE_COUNT	738102
+SHUFFLE	COPY_MAP_DATA	117575000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5064200
+SHUFFLE	COMPRESS_BYTE_COUNT	742820
+SHUFFLE	COPY_MAP_DATA	66729000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5053082
+SHUFFLE	COMPRESS_BYTE_COUNT	740870
+SHUFFLE	COPY_MAP_DATA	104327000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5012282
+SHUFFLE	COMPRESS_BYTE_COUNT	735052
+SHUFFLE	COPY_MAP_DATA	101865000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5050226
+SHUFFLE	COMPRESS_BYTE_COUNT	740672
+SHUFFLE	COPY_MAP_DATA	222221000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5066444
+SHUFFLE	COMPRESS_BYTE_COUNT	743064
+SHUFFLE	COPY_MAP_DATA	440515000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5057978
+SHUFFLE	COMPRESS_BYTE_COUNT	741904
+SHUFFLE	COPY_MAP_DATA	175617000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5050532
+SHUFFLE	COMPRESS_BYTE_COUNT	740236
+SHUFFLE	COPY_MAP_DATA	45185000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5017892
+SHUFFLE	COMPRESS_BYTE_COUNT	736475
+SHUFFLE	COPY_MAP_DATA	45654000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5047778
+SHUFFLE	COMPRESS_BYTE_COUNT	739811
+SHUFFLE	COPY_MAP_DATA	43726000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5093474
+SHUFFLE	COMPRESS_BYTE_COUNT	746813
+SHUFFLE	COPY_MAP_DATA	51505000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5068688
+SHUFFLE	COMPRESS_BYTE_COUNT	743250
+SHUFFLE	COPY_MAP_DATA	207931000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5042270
+SHUFFLE	COMPRESS_BYTE_COUNT	739720
+SHUFFLE	COPY_MAP_DATA	52506000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5054918
+SHUFFLE	COMPRESS_BYTE_COUNT	741486
+SHUFFLE	COPY_MAP_DATA	4324506000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5038802
+SHUFFLE	COMPRESS_BYTE_COUNT	738876
+SHUFFLE	COPY_MAP_DATA	52787000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5043800
+SHUFFLE	COMPRESS_BYTE_COUNT	739323
+SHUFFLE	COPY_MAP_DATA	353450000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5057264
+SHUFFLE	COMPRESS_BYTE_COUNT	741778
+SHUFFLE	COPY_MAP_DATA	49114000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5062874
+SHUFFLE	COMPRESS_BYTE_COUNT	742842
+SHUFFLE	COPY_MAP_DATA	431417000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5068382
+SHUFFLE	COMPRESS_BYTE_COUNT	743145
+SHUFFLE	COPY_MAP_DATA	114319000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5066342
+SHUFFLE	COMPRESS_BYTE_COUNT	743023
+SHUFFLE	COPY_MAP_DATA	7109044000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5059304
+SHUFFLE	COMPRESS_BYTE_COUNT	742123
+SHUFFLE	COPY_MAP_DATA	113412000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5033294
+SHUFFLE	COMPRESS_BYTE_COUNT	737676
+SHUFFLE	COPY_MAP_DATA	6643211000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5071952
+SHUFFLE	COMPRESS_BYTE_COUNT	743412
+SHUFFLE	COPY_MAP_DATA	159822000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5032070
+SHUFFLE	COMPRESS_BYTE_COUNT	738201
+SHUFFLE	COPY_MAP_DATA	62699000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5041964
+SHUFFLE	COMPRESS_BYTE_COUNT	739574
+SHUFFLE	COPY_MAP_DATA	44671000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5062160
+SHUFFLE	COMPRESS_BYTE_COUNT	742347
+SHUFFLE	COPY_MAP_DATA	67675000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5021768
+SHUFFLE	COMPRESS_BYTE_COUNT	736453
+SHUFFLE	COPY_MAP_DATA	175485000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5061548
+SHUFFLE	COMPRESS_BYTE_COUNT	742423
+SHUFFLE	COPY_MAP_DATA	47878000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5088578
+SHUFFLE	COMPRESS_BYTE_COUNT	746215
+SHUFFLE	COPY_MAP_DATA	46481000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5032376
+SHUFFLE	COMPRESS_BYTE_COUNT	737659
+SHUFFLE	COPY_MAP_DATA	9567588295
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5054816
+SHUFFLE	COMPRESS_BYTE_COUNT	741358
+SHUFFLE	COPY_MAP_DATA	47514000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5077256
+SHUFFLE	COMPRESS_BYTE_COUNT	744900
+SHUFFLE	COPY_MAP_DATA	8053976000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5055836
+SHUFFLE	COMPRESS_BYTE_COUNT	740950
+SHUFFLE	COPY_MAP_DATA	49511000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5050838
+SHUFFLE	COMPRESS_BYTE_COUNT	740610
+SHUFFLE	COPY_MAP_DATA	168047000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5029418
+SHUFFLE	COMPRESS_BYTE_COUNT	737457
+SHUFFLE	COPY_MAP_DATA	5074302000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5012792
+SHUFFLE	COMPRESS_BYTE_COUNT	735559
+SHUFFLE	COPY_MAP_DATA	62387000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5040332
+SHUFFLE	COMPRESS_BYTE_COUNT	739477
+SHUFFLE	COPY_MAP_DATA	49240000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5067158
+SHUFFLE	COMPRESS_BYTE_COUNT	742759
+SHUFFLE	COPY_MAP_DATA	219776000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5036150
+SHUFFLE	COMPRESS_BYTE_COUNT	738375
+SHUFFLE	COPY_MAP_DATA	76063000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5033702
+SHUFFLE	COMPRESS_BYTE_COUNT	738510
+SHUFFLE	COPY_MAP_DATA	48640000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5055020
+SHUFFLE	COMPRESS_BYTE_COUNT	741534
+SHUFFLE	COPY_MAP_DATA	215103000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5080010
+SHUFFLE	COMPRESS_BYTE_COUNT	745172
+SHUFFLE	COPY_MAP_DATA	46107000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5036660
+SHUFFLE	COMPRESS_BYTE_COUNT	738433
+SHUFFLE	COPY_MAP_DATA	47542000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5069504
+SHUFFLE	COMPRESS_BYTE_COUNT	743132
+SHUFFLE	COPY_MAP_DATA	211051000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5018198
+SHUFFLE	COMPRESS_BYTE_COUNT	736071
+SHUFFLE	COPY_MAP_DATA	113894000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5043290
+SHUFFLE	COMPRESS_BYTE_COUNT	739210
+SHUFFLE	COPY_MAP_DATA	3714943000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5053388
+SHUFFLE	COMPRESS_BYTE_COUNT	740906
+SHUFFLE	COPY_MAP_DATA	87884000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5025542
+SHUFFLE	COMPRESS_BYTE_COUNT	737225
+SHUFFLE	COPY_MAP_DATA	64353000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5063384
+SHUFFLE	COMPRESS_BYTE_COUNT	742399
+SHUFFLE	COPY_MAP_DATA	259513000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5071748
+SHUFFLE	COMPRESS_BYTE_COUNT	744224
+SHUFFLE	COPY_MAP_DATA	58452000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5063078
+SHUFFLE	COMPRESS_BYTE_COUNT	742884
+SHUFFLE	COPY_MAP_DATA	397766000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5060222
+SHUFFLE	COMPRESS_BYTE_COUNT	742021
+SHUFFLE	COPY_MAP_DATA	87638000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5020544
+SHUFFLE	COMPRESS_BYTE_COUNT	736443
+SHUFFLE	COPY_MAP_DATA	205926000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5014220
+SHUFFLE	COMPRESS_BYTE_COUNT	735185
+SHUFFLE	COPY_MAP_DATA	47815000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5051654
+SHUFFLE	COMPRESS_BYTE_COUNT	741163
+SHUFFLE	COPY_MAP_DATA	138936000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5037578
+SHUFFLE	COMPRESS_BYTE_COUNT	738520
+SHUFFLE	COPY_MAP_DATA	47235000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5023502
+SHUFFLE	COMPRESS_BYTE_COUNT	736991
+SHUFFLE	COPY_MAP_DATA	398067000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5050226
+SHUFFLE	COMPRESS_BYTE_COUNT	740391
+SHUFFLE	COPY_MAP_DATA	108352000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5016872
+SHUFFLE	COMPRESS_BYTE_COUNT	735511
+SHUFFLE	COPY_MAP_DATA	142488000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5064608
+SHUFFLE	COMPRESS_BYTE_COUNT	743214
+SHUFFLE	COPY_MAP_DATA	494527000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5088782
+SHUFFLE	COMPRESS_BYTE_COUNT	745946
+SHUFFLE	COPY_MAP_DATA	108705000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5070116
+SHUFFLE	COMPRESS_BYTE_COUNT	743777
+SHUFFLE	COPY_MAP_DATA	65377000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5023910
+SHUFFLE	COMPRESS_BYTE_COUNT	736327
+SHUFFLE	COPY_MAP_DATA	222967000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5038904
+SHUFFLE	COMPRESS_BYTE_COUNT	739096
+SHUFFLE	COPY_MAP_DATA	904711000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5032580
+SHUFFLE	COMPRESS_BYTE_COUNT	737792
+SHUFFLE	COPY_MAP_DATA	51261000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5099186
+SHUFFLE	COMPRESS_BYTE_COUNT	747722
+SHUFFLE	COPY_MAP_DATA	493251000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5064098
+SHUFFLE	COMPRESS_BYTE_COUNT	743088
+SHUFFLE	COPY_MAP_DATA	47892000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4981172
+SHUFFLE	COMPRESS_BYTE_COUNT	730698
+SHUFFLE	COPY_MAP_DATA	1265488000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5043290
+SHUFFLE	COMPRESS_BYTE_COUNT	739472
+SHUFFLE	COPY_MAP_DATA	63639000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5028704
+SHUFFLE	COMPRESS_BYTE_COUNT	737275
+SHUFFLE	COPY_MAP_DATA	111785000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5052776
+SHUFFLE	COMPRESS_BYTE_COUNT	740870
+SHUFFLE	COPY_MAP_DATA	120870000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5066954
+SHUFFLE	COMPRESS_BYTE_COUNT	742666
+SHUFFLE	COPY_MAP_DATA	348648000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5055836
+SHUFFLE	COMPRESS_BYTE_COUNT	741152
+SHUFFLE	COPY_MAP_DATA	48142000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5055530
+SHUFFLE	COMPRESS_BYTE_COUNT	741174
+SHUFFLE	COPY_MAP_DATA	66612000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5072972
+SHUFFLE	COMPRESS_BYTE_COUNT	744086
+SHUFFLE	COPY_MAP_DATA	78886000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5044310
+SHUFFLE	COMPRESS_BYTE_COUNT	739815
+SHUFFLE	COPY_MAP_DATA	172018000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5062670
+SHUFFLE	COMPRESS_BYTE_COUNT	742745
+SHUFFLE	COPY_MAP_DATA	229422000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5039822
+SHUFFLE	COMPRESS_BYTE_COUNT	739451
+SHUFFLE	COPY_MAP_DATA	46958000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5059610
+SHUFFLE	COMPRESS_BYTE_COUNT	742327
+SHUFFLE	COPY_MAP_DATA	151323000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5045636
+SHUFFLE	COMPRESS_BYTE_COUNT	739799
+SHUFFLE	COPY_MAP_DATA	187036000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5015444
+SHUFFLE	COMPRESS_BYTE_COUNT	735438
+SHUFFLE	COPY_MAP_DATA	320145000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5049308
+SHUFFLE	COMPRESS_BYTE_COUNT	740411
+SHUFFLE	COPY_MAP_DATA	467796000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5037068
+SHUFFLE	COMPRESS_BYTE_COUNT	731732
+SHUFFLE	COPY_MAP_DATA	45319000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5028704
+SHUFFLE	COMPRESS_BYTE_COUNT	737381
+SHUFFLE	COPY_MAP_DATA	121128000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5029418
+SHUFFLE	COMPRESS_BYTE_COUNT	737751
+SHUFFLE	COPY_MAP_DATA	148337000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5087048
+SHUFFLE	COMPRESS_BYTE_COUNT	745604
+SHUFFLE	COPY_MAP_DATA	51838000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5033090
+SHUFFLE	COMPRESS_BYTE_COUNT	738125
+SHUFFLE	COPY_MAP_DATA	113488000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5050022
+SHUFFLE	COMPRESS_BYTE_COUNT	740844
+SHUFFLE	COPY_MAP_DATA	59623000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5072156
+SHUFFLE	COMPRESS_BYTE_COUNT	743767
+SHUFFLE	COPY_MAP_DATA	77634000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5045024
+SHUFFLE	COMPRESS_BYTE_COUNT	739631
+SHUFFLE	COPY_MAP_DATA	108912000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1190240
+SHUFFLE	COMPRESS_BYTE_COUNT	172486
+SHUFFLE	COPY_MAP_DATA	58140000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5044922
+SHUFFLE	COMPRESS_BYTE_COUNT	740087
+SHUFFLE	COPY_MAP_DATA	52215000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5085110
+SHUFFLE	COMPRESS_BYTE_COUNT	745290
+SHUFFLE	COPY_MAP_DATA	159056000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5025440
+SHUFFLE	COMPRESS_BYTE_COUNT	737611
+SHUFFLE	COPY_MAP_DATA	12956384991
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5065322
+SHUFFLE	COMPRESS_BYTE_COUNT	742333
+SHUFFLE	COPY_MAP_DATA	56630000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1185854
+SHUFFLE	COMPRESS_BYTE_COUNT	171837
+SHUFFLE	COPY_MAP_DATA	73549000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5047778
+SHUFFLE	COMPRESS_BYTE_COUNT	740441
+SHUFFLE	COPY_MAP_DATA	50203000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5038394
+SHUFFLE	COMPRESS_BYTE_COUNT	739018
+SHUFFLE	COPY_MAP_DATA	56594000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5049308
+SHUFFLE	COMPRESS_BYTE_COUNT	740868
+SHUFFLE	COPY_MAP_DATA	288623000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5048798
+SHUFFLE	COMPRESS_BYTE_COUNT	740941
+SHUFFLE	COPY_MAP_DATA	6379102000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1173614
+SHUFFLE	COMPRESS_BYTE_COUNT	170312
+SHUFFLE	COPY_MAP_DATA	13055000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5076032
+SHUFFLE	COMPRESS_BYTE_COUNT	744475
+SHUFFLE	COPY_MAP_DATA	42224000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5008100
+SHUFFLE	COMPRESS_BYTE_COUNT	735063
+SHUFFLE	COPY_MAP_DATA	74969000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5032376
+SHUFFLE	COMPRESS_BYTE_COUNT	738091
+SHUFFLE	COPY_MAP_DATA	130395000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5055734
+SHUFFLE	COMPRESS_BYTE_COUNT	741093
+SHUFFLE	COPY_MAP_DATA	112489000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1163312
+SHUFFLE	COMPRESS_BYTE_COUNT	168722
+SHUFFLE	COPY_MAP_DATA	12051000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5027888
+SHUFFLE	COMPRESS_BYTE_COUNT	737416
+SHUFFLE	COPY_MAP_DATA	86422000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5050940
+SHUFFLE	COMPRESS_BYTE_COUNT	740590
+SHUFFLE	COPY_MAP_DATA	107460000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1197074
+SHUFFLE	COMPRESS_BYTE_COUNT	173670
+SHUFFLE	COPY_MAP_DATA	12038000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5063588
+SHUFFLE	COMPRESS_BYTE_COUNT	742401
+SHUFFLE	COPY_MAP_DATA	55795000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5012588
+SHUFFLE	COMPRESS_BYTE_COUNT	735513
+SHUFFLE	COPY_MAP_DATA	45756000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5049818
+SHUFFLE	COMPRESS_BYTE_COUNT	740653
+SHUFFLE	COPY_MAP_DATA	135669000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5027378
+SHUFFLE	COMPRESS_BYTE_COUNT	737235
+SHUFFLE	COPY_MAP_DATA	67494000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5061140
+SHUFFLE	COMPRESS_BYTE_COUNT	742207
+SHUFFLE	COPY_MAP_DATA	1522658000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5052572
+SHUFFLE	COMPRESS_BYTE_COUNT	740848
+SHUFFLE	COPY_MAP_DATA	603219000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1199624
+SHUFFLE	COMPRESS_BYTE_COUNT	174204
+SHUFFLE	COPY_MAP_DATA	31211000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5036456
+SHUFFLE	COMPRESS_BYTE_COUNT	738393
+SHUFFLE	COPY_MAP_DATA	5206684000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5032478
+SHUFFLE	COMPRESS_BYTE_COUNT	738384
+SHUFFLE	COPY_MAP_DATA	47160000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5041046
+SHUFFLE	COMPRESS_BYTE_COUNT	739022
+SHUFFLE	COPY_MAP_DATA	5671223000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1186976
+SHUFFLE	COMPRESS_BYTE_COUNT	172233
+SHUFFLE	COPY_MAP_DATA	15532000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5025542
+SHUFFLE	COMPRESS_BYTE_COUNT	737262
+SHUFFLE	COPY_MAP_DATA	54001000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1187282
+SHUFFLE	COMPRESS_BYTE_COUNT	172308
+SHUFFLE	COPY_MAP_DATA	253622000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5036048
+SHUFFLE	COMPRESS_BYTE_COUNT	738284
+SHUFFLE	COPY_MAP_DATA	4399206000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5040434
+SHUFFLE	COMPRESS_BYTE_COUNT	739331
+SHUFFLE	COPY_MAP_DATA	54357000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5058896
+SHUFFLE	COMPRESS_BYTE_COUNT	741932
+SHUFFLE	COPY_MAP_DATA	51100000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1189322
+SHUFFLE	COMPRESS_BYTE_COUNT	172550
+SHUFFLE	COPY_MAP_DATA	4124115000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5044718
+SHUFFLE	COMPRESS_BYTE_COUNT	739947
+SHUFFLE	COPY_MAP_DATA	7502621000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5038904
+SHUFFLE	COMPRESS_BYTE_COUNT	739131
+SHUFFLE	COPY_MAP_DATA	46328000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5066546
+SHUFFLE	COMPRESS_BYTE_COUNT	742366
+SHUFFLE	COPY_MAP_DATA	52458000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1192280
+SHUFFLE	COMPRESS_BYTE_COUNT	172969
+SHUFFLE	COPY_MAP_DATA	159814000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5005244
+SHUFFLE	COMPRESS_BYTE_COUNT	733622
+SHUFFLE	COPY_MAP_DATA	6417652000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5021258
+SHUFFLE	COMPRESS_BYTE_COUNT	736670
+SHUFFLE	COPY_MAP_DATA	42289000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5045228
+SHUFFLE	COMPRESS_BYTE_COUNT	739987
+SHUFFLE	COPY_MAP_DATA	336119000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1187894
+SHUFFLE	COMPRESS_BYTE_COUNT	172370
+SHUFFLE	COPY_MAP_DATA	26547000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5074604
+SHUFFLE	COMPRESS_BYTE_COUNT	744010
+SHUFFLE	COPY_MAP_DATA	53948000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1199216
+SHUFFLE	COMPRESS_BYTE_COUNT	173972
+SHUFFLE	COPY_MAP_DATA	192292000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5042678
+SHUFFLE	COMPRESS_BYTE_COUNT	739247
+SHUFFLE	COPY_MAP_DATA	1157643000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5035844
+SHUFFLE	COMPRESS_BYTE_COUNT	738387
+SHUFFLE	COPY_MAP_DATA	58361000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1186976
+SHUFFLE	COMPRESS_BYTE_COUNT	172364
+SHUFFLE	COPY_MAP_DATA	24793000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1190138
+SHUFFLE	COMPRESS_BYTE_COUNT	172632
+SHUFFLE	COPY_MAP_DATA	13153000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5070626
+SHUFFLE	COMPRESS_BYTE_COUNT	743307
+SHUFFLE	COPY_MAP_DATA	48308000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1193708
+SHUFFLE	COMPRESS_BYTE_COUNT	173260
+SHUFFLE	COPY_MAP_DATA	116311000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5022686
+SHUFFLE	COMPRESS_BYTE_COUNT	736812
+SHUFFLE	COPY_MAP_DATA	74214000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1191362
+SHUFFLE	COMPRESS_BYTE_COUNT	172678
+SHUFFLE	COPY_MAP_DATA	164932000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1175450
+SHUFFLE	COMPRESS_BYTE_COUNT	170676
+SHUFFLE	COPY_MAP_DATA	26203000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1192484
+SHUFFLE	COMPRESS_BYTE_COUNT	173121
+SHUFFLE	COPY_MAP_DATA	173670000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5046962
+SHUFFLE	COMPRESS_BYTE_COUNT	740409
+SHUFFLE	COPY_MAP_DATA	53754000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1192586
+SHUFFLE	COMPRESS_BYTE_COUNT	173080
+SHUFFLE	COPY_MAP_DATA	1569092000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5057672
+SHUFFLE	COMPRESS_BYTE_COUNT	741360
+SHUFFLE	COPY_MAP_DATA	68694000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1180856
+SHUFFLE	COMPRESS_BYTE_COUNT	171309
+SHUFFLE	COPY_MAP_DATA	12691000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1179122
+SHUFFLE	COMPRESS_BYTE_COUNT	171116
+SHUFFLE	COPY_MAP_DATA	22156000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5049206
+SHUFFLE	COMPRESS_BYTE_COUNT	740551
+SHUFFLE	COPY_MAP_DATA	45976000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5077562
+SHUFFLE	COMPRESS_BYTE_COUNT	744955
+SHUFFLE	COPY_MAP_DATA	46440000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1181264
+SHUFFLE	COMPRESS_BYTE_COUNT	171395
+SHUFFLE	COPY_MAP_DATA	49761000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1190342
+SHUFFLE	COMPRESS_BYTE_COUNT	172673
+SHUFFLE	COPY_MAP_DATA	6351532000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5078888
+SHUFFLE	COMPRESS_BYTE_COUNT	744706
+SHUFFLE	COPY_MAP_DATA	126757000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5056040
+SHUFFLE	COMPRESS_BYTE_COUNT	741390
+SHUFFLE	COPY_MAP_DATA	783043000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5074604
+SHUFFLE	COMPRESS_BYTE_COUNT	744146
+SHUFFLE	COPY_MAP_DATA	53585000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1172798
+SHUFFLE	COMPRESS_BYTE_COUNT	170209
+SHUFFLE	COPY_MAP_DATA	14651000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5026970
+SHUFFLE	COMPRESS_BYTE_COUNT	737203
+SHUFFLE	COPY_MAP_DATA	56944000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1166984
+SHUFFLE	COMPRESS_BYTE_COUNT	169328
+SHUFFLE	COPY_MAP_DATA	13667000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1162292
+SHUFFLE	COMPRESS_BYTE_COUNT	168806
+SHUFFLE	COPY_MAP_DATA	3666841000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1209518
+SHUFFLE	COMPRESS_BYTE_COUNT	175536
+SHUFFLE	COPY_MAP_DATA	74566000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1205438
+SHUFFLE	COMPRESS_BYTE_COUNT	174977
+SHUFFLE	COPY_MAP_DATA	53342000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1186466
+SHUFFLE	COMPRESS_BYTE_COUNT	172214
+SHUFFLE	COPY_MAP_DATA	33788000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1187792
+SHUFFLE	COMPRESS_BYTE_COUNT	172294
+SHUFFLE	COPY_MAP_DATA	51494000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1192178
+SHUFFLE	COMPRESS_BYTE_COUNT	172993
+SHUFFLE	COPY_MAP_DATA	35046000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1195340
+SHUFFLE	COMPRESS_BYTE_COUNT	173366
+SHUFFLE	COPY_MAP_DATA	1299417000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5060120
+SHUFFLE	COMPRESS_BYTE_COUNT	741848
+SHUFFLE	COPY_MAP_DATA	1274075000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1179224
+SHUFFLE	COMPRESS_BYTE_COUNT	171084
+SHUFFLE	COPY_MAP_DATA	18117000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1179428
+SHUFFLE	COMPRESS_BYTE_COUNT	171146
+SHUFFLE	COPY_MAP_DATA	24462000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1192688
+SHUFFLE	COMPRESS_BYTE_COUNT	173063
+SHUFFLE	COPY_MAP_DATA	13200000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1192688
+SHUFFLE	COMPRESS_BYTE_COUNT	173049
+SHUFFLE	COPY_MAP_DATA	366563000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5016158
+SHUFFLE	COMPRESS_BYTE_COUNT	735908
+SHUFFLE	COPY_MAP_DATA	228353000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1180142
+SHUFFLE	COMPRESS_BYTE_COUNT	171284
+SHUFFLE	COPY_MAP_DATA	9677031000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1188812
+SHUFFLE	COMPRESS_BYTE_COUNT	172305
+SHUFFLE	COPY_MAP_DATA	12502000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5063486
+SHUFFLE	COMPRESS_BYTE_COUNT	742583
+SHUFFLE	COPY_MAP_DATA	320651000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1187588
+SHUFFLE	COMPRESS_BYTE_COUNT	172373
+SHUFFLE	COPY_MAP_DATA	13846000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1221554
+SHUFFLE	COMPRESS_BYTE_COUNT	177236
+SHUFFLE	COPY_MAP_DATA	43712000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1183610
+SHUFFLE	COMPRESS_BYTE_COUNT	171660
+SHUFFLE	COPY_MAP_DATA	14826000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1182182
+SHUFFLE	COMPRESS_BYTE_COUNT	171504
+SHUFFLE	COPY_MAP_DATA	12741000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5021870
+SHUFFLE	COMPRESS_BYTE_COUNT	736798
+SHUFFLE	COPY_MAP_DATA	50426000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1187792
+SHUFFLE	COMPRESS_BYTE_COUNT	172360
+SHUFFLE	COPY_MAP_DATA	432030000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1209416
+SHUFFLE	COMPRESS_BYTE_COUNT	175518
+SHUFFLE	COPY_MAP_DATA	13319000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1178612
+SHUFFLE	COMPRESS_BYTE_COUNT	170961
+SHUFFLE	COPY_MAP_DATA	21114000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1185854
+SHUFFLE	COMPRESS_BYTE_COUNT	172125
+SHUFFLE	COPY_MAP_DATA	1293814000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5045432
+SHUFFLE	COMPRESS_BYTE_COUNT	739622
+SHUFFLE	COPY_MAP_DATA	188341000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1181162
+SHUFFLE	COMPRESS_BYTE_COUNT	171416
+SHUFFLE	COPY_MAP_DATA	15980000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1188710
+SHUFFLE	COMPRESS_BYTE_COUNT	172391
+SHUFFLE	COPY_MAP_DATA	12528000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1200338
+SHUFFLE	COMPRESS_BYTE_COUNT	174145
+SHUFFLE	COPY_MAP_DATA	13755000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1191770
+SHUFFLE	COMPRESS_BYTE_COUNT	172867
+SHUFFLE	COPY_MAP_DATA	12906000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5051144
+SHUFFLE	COMPRESS_BYTE_COUNT	741035
+SHUFFLE	COPY_MAP_DATA	252057000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1153316
+SHUFFLE	COMPRESS_BYTE_COUNT	167363
+SHUFFLE	COPY_MAP_DATA	12112000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5068382
+SHUFFLE	COMPRESS_BYTE_COUNT	743419
+SHUFFLE	COPY_MAP_DATA	45533000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5053898
+SHUFFLE	COMPRESS_BYTE_COUNT	740901
+SHUFFLE	COPY_MAP_DATA	103537000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5030744
+SHUFFLE	COMPRESS_BYTE_COUNT	737449
+SHUFFLE	COPY_MAP_DATA	255522000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1170758
+SHUFFLE	COMPRESS_BYTE_COUNT	169972
+SHUFFLE	COPY_MAP_DATA	13263000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1178714
+SHUFFLE	COMPRESS_BYTE_COUNT	171051
+SHUFFLE	COPY_MAP_DATA	12654000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1179224
+SHUFFLE	COMPRESS_BYTE_COUNT	171043
+SHUFFLE	COPY_MAP_DATA	16525000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1186364
+SHUFFLE	COMPRESS_BYTE_COUNT	172197
+SHUFFLE	COPY_MAP_DATA	20582000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1176062
+SHUFFLE	COMPRESS_BYTE_COUNT	170633
+SHUFFLE	COPY_MAP_DATA	14021000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1179734
+SHUFFLE	COMPRESS_BYTE_COUNT	171153
+SHUFFLE	COPY_MAP_DATA	12102000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1194932
+SHUFFLE	COMPRESS_BYTE_COUNT	173205
+SHUFFLE	COPY_MAP_DATA	12693000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1180244
+SHUFFLE	COMPRESS_BYTE_COUNT	171355
+SHUFFLE	COPY_MAP_DATA	13053000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1195340
+SHUFFLE	COMPRESS_BYTE_COUNT	173404
+SHUFFLE	COPY_MAP_DATA	13123000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1197788
+SHUFFLE	COMPRESS_BYTE_COUNT	173756
+SHUFFLE	COPY_MAP_DATA	12731000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1185752
+SHUFFLE	COMPRESS_BYTE_COUNT	171936
+SHUFFLE	COPY_MAP_DATA	16284000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1189526
+SHUFFLE	COMPRESS_BYTE_COUNT	172587
+SHUFFLE	COPY_MAP_DATA	197475000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1189016
+SHUFFLE	COMPRESS_BYTE_COUNT	172568
+SHUFFLE	COPY_MAP_DATA	1159596000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1184834
+SHUFFLE	COMPRESS_BYTE_COUNT	171943
+SHUFFLE	COPY_MAP_DATA	27354000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5086334
+SHUFFLE	COMPRESS_BYTE_COUNT	745644
+SHUFFLE	COPY_MAP_DATA	50876000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1180754
+SHUFFLE	COMPRESS_BYTE_COUNT	171405
+SHUFFLE	COPY_MAP_DATA	16616000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1195034
+SHUFFLE	COMPRESS_BYTE_COUNT	173271
+SHUFFLE	COPY_MAP_DATA	12144000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1195850
+SHUFFLE	COMPRESS_BYTE_COUNT	173476
+SHUFFLE	COPY_MAP_DATA	12729000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1169024
+SHUFFLE	COMPRESS_BYTE_COUNT	169780
+SHUFFLE	COPY_MAP_DATA	559792000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1181162
+SHUFFLE	COMPRESS_BYTE_COUNT	171269
+SHUFFLE	COPY_MAP_DATA	75319000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1199318
+SHUFFLE	COMPRESS_BYTE_COUNT	173988
+SHUFFLE	COPY_MAP_DATA	13149000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1188608
+SHUFFLE	COMPRESS_BYTE_COUNT	172527
+SHUFFLE	COPY_MAP_DATA	13801000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1171676
+SHUFFLE	COMPRESS_BYTE_COUNT	170192
+SHUFFLE	COPY_MAP_DATA	11814000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1189220
+SHUFFLE	COMPRESS_BYTE_COUNT	172464
+SHUFFLE	COPY_MAP_DATA	13470000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1178408
+SHUFFLE	COMPRESS_BYTE_COUNT	171013
+SHUFFLE	COPY_MAP_DATA	13067000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1189424
+SHUFFLE	COMPRESS_BYTE_COUNT	172519
+SHUFFLE	COPY_MAP_DATA	75942000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1170962
+SHUFFLE	COMPRESS_BYTE_COUNT	169794
+SHUFFLE	COPY_MAP_DATA	27940000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1207478
+SHUFFLE	COMPRESS_BYTE_COUNT	175128
+SHUFFLE	COPY_MAP_DATA	11970000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1183100
+SHUFFLE	COMPRESS_BYTE_COUNT	171577
+SHUFFLE	COPY_MAP_DATA	28349000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1180346
+SHUFFLE	COMPRESS_BYTE_COUNT	171334
+SHUFFLE	COPY_MAP_DATA	29839000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1179428
+SHUFFLE	COMPRESS_BYTE_COUNT	171054
+SHUFFLE	COPY_MAP_DATA	12102000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1193300
+SHUFFLE	COMPRESS_BYTE_COUNT	173026
+SHUFFLE	COPY_MAP_DATA	22936000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1193096
+SHUFFLE	COMPRESS_BYTE_COUNT	173210
+SHUFFLE	COPY_MAP_DATA	263290000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1196666
+SHUFFLE	COMPRESS_BYTE_COUNT	173623
+SHUFFLE	COPY_MAP_DATA	13431000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1184018
+SHUFFLE	COMPRESS_BYTE_COUNT	171786
+SHUFFLE	COPY_MAP_DATA	13485000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1177694
+SHUFFLE	COMPRESS_BYTE_COUNT	170876
+SHUFFLE	COPY_MAP_DATA	25062000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1190852
+SHUFFLE	COMPRESS_BYTE_COUNT	172611
+SHUFFLE	COPY_MAP_DATA	13821000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1176674
+SHUFFLE	COMPRESS_BYTE_COUNT	170749
+SHUFFLE	COPY_MAP_DATA	16869000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1166780
+SHUFFLE	COMPRESS_BYTE_COUNT	169423
+SHUFFLE	COPY_MAP_DATA	13738000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1184018
+SHUFFLE	COMPRESS_BYTE_COUNT	171785
+SHUFFLE	COPY_MAP_DATA	16677000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1186772
+SHUFFLE	COMPRESS_BYTE_COUNT	172377
+SHUFFLE	COPY_MAP_DATA	13651000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1184528
+SHUFFLE	COMPRESS_BYTE_COUNT	171950
+SHUFFLE	COPY_MAP_DATA	12856000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1178816
+SHUFFLE	COMPRESS_BYTE_COUNT	170983
+SHUFFLE	COPY_MAP_DATA	13847000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1191566
+SHUFFLE	COMPRESS_BYTE_COUNT	172903
+SHUFFLE	COPY_MAP_DATA	14146000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1193300
+SHUFFLE	COMPRESS_BYTE_COUNT	173159
+SHUFFLE	COPY_MAP_DATA	14083000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1191974
+SHUFFLE	COMPRESS_BYTE_COUNT	172984
+SHUFFLE	COPY_MAP_DATA	13582000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1165862
+SHUFFLE	COMPRESS_BYTE_COUNT	169207
+SHUFFLE	COPY_MAP_DATA	12941000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1185650
+SHUFFLE	COMPRESS_BYTE_COUNT	172080
+SHUFFLE	COPY_MAP_DATA	11519000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1187384
+SHUFFLE	COMPRESS_BYTE_COUNT	172272
+SHUFFLE	COPY_MAP_DATA	82965000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1175246
+SHUFFLE	COMPRESS_BYTE_COUNT	170402
+SHUFFLE	COPY_MAP_DATA	14311000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	198148031580
+MERGE	READ_WRITE	195863835580
+MERGE	READ_WRITE_COUNT	8
+MERGE	COMBINE	0
+MERGE	WRITE	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	2755819000
+SORT	READ_WRITE	2583865000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	172835184
+REDUCE	SETUP	386000
+REDUCE	SETUP_MEM	172835184
+REDUCE	CLEANUP	35000
+REDUCE	CLEANUP_MEM	154235856
+REDUCE	TOTAL_RUN	173875673492
+REDUCE	READ	16879694793
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	83932255991
+REDUCE	WRITE	30010659000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	110619680
+REDUCE	VALUE_BYTE_COUNT	973453184
+REDUCE	REDUCE_MEM	154235856
+REDUCE	WRITE	3250000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	719099911863
@@ -0,0 +1,1229 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5044922
+SHUFFLE	COMPRESS_BYTE_COUNT	739894
+SHUFFLE	COPY_MAP_DATA	116401000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5046350
+SHUFFLE	COMPRESS_BYTE_COUNT	739676
+SHUFFLE	COPY_MAP_DATA	69455000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5039006
+SHUFFLE	COMPRESS_BYTE_COUNT	739383
+SHUFFLE	COPY_MAP_DATA	81323000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5043596
+SHUFFLE	COMPRESS_BYTE_COUNT	739898
+SHUFFLE	COPY_MAP_DATA	55709000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5058998
+SHUFFLE	COMPRESS_BYTE_COUNT	742344
+SHUFFLE	COPY_MAP_DATA	93890000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5064404
+SHUFFLE	COMPRESS_BYTE_COUNT	742783
+SHUFFLE	COPY_MAP_DATA	57049000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5013302
+SHUFFLE	COMPRESS_BYTE_COUNT	735144
+SHUFFLE	COPY_MAP_DATA	420638000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5056652
+SHUFFLE	COMPRESS_BYTE_COUNT	741827
+SHUFFLE	COPY_MAP_DATA	65094000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5066954
+SHUFFLE	COMPRESS_BYTE_COUNT	743405
+SHUFFLE	COPY_MAP_DATA	89902000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5072666
+SHUFFLE	COMPRESS_BYTE_COUNT	744424
+SHUFFLE	COPY_MAP_DATA	47500000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5098574
+SHUFFLE	COMPRESS_BYTE_COUNT	747617
+SHUFFLE	COPY_MAP_DATA	60711000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5069504
+SHUFFLE	COMPRESS_BYTE_COUNT	744006
+SHUFFLE	COPY_MAP_DATA	122162000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5067872
+SHUFFLE	COMPRESS_BYTE_COUNT	743091
+SHUFFLE	COPY_MAP_DATA	71267000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5049920
+SHUFFLE	COMPRESS_BYTE_COUNT	741390
+SHUFFLE	COPY_MAP_DATA	1935894000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5071646
+SHUFFLE	COMPRESS_BYTE_COUNT	744232
+SHUFFLE	COPY_MAP_DATA	76897000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5044514
+SHUFFLE	COMPRESS_BYTE_COUNT	739912
+SHUFFLE	COPY_MAP_DATA	53256000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5072768
+SHUFFLE	COMPRESS_BYTE_COUNT	743839
+SHUFFLE	COPY_MAP_DATA	47760000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5068586
+SHUFFLE	COMPRESS_BYTE_COUNT	743158
+SHUFFLE	COPY_MAP_DATA	47290000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5092454
+SHUFFLE	COMPRESS_BYTE_COUNT	747104
+SHUFFLE	COPY_MAP_DATA	187793000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5074298
+SHUFFLE	COMPRESS_BYTE_COUNT	744047
+SHUFFLE	COPY_MAP_DATA	53922000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5108978
+SHUFFLE	COMPRESS_BYTE_COUNT	749043
+SHUFFLE	COPY_MAP_DATA	48013000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5030540
+SHUFFLE	COMPRESS_BYTE_COUNT	738128
+SHUFFLE	COPY_MAP_DATA	83928000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5046248
+SHUFFLE	COMPRESS_BYTE_COUNT	740428
+SHUFFLE	COPY_MAP_DATA	94107000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5056856
+SHUFFLE	COMPRESS_BYTE_COUNT	741707
+SHUFFLE	COPY_MAP_DATA	47946000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5093576
+SHUFFLE	COMPRESS_BYTE_COUNT	747289
+SHUFFLE	COPY_MAP_DATA	51502000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5044106
+SHUFFLE	COMPRESS_BYTE_COUNT	740514
+SHUFFLE	COPY_MAP_DATA	173994000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5079194
+SHUFFLE	COMPRESS_BYTE_COUNT	744665
+SHUFFLE	COPY_MAP_DATA	527658000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5061752
+SHUFFLE	COMPRESS_BYTE_COUNT	742882
+SHUFFLE	COPY_MAP_DATA	215386000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5037272
+SHUFFLE	COMPRESS_BYTE_COUNT	738688
+SHUFFLE	COPY_MAP_DATA	1835774000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5027888
+SHUFFLE	COMPRESS_BYTE_COUNT	737536
+SHUFFLE	COPY_MAP_DATA	66111000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5073482
+SHUFFLE	COMPRESS_BYTE_COUNT	744124
+SHUFFLE	COPY_MAP_DATA	1050985000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5048798
+SHUFFLE	COMPRESS_BYTE_COUNT	740634
+SHUFFLE	COPY_MAP_DATA	46850000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5064914
+SHUFFLE	COMPRESS_BYTE_COUNT	742784
+SHUFFLE	COPY_MAP_DATA	94426000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5055326
+SHUFFLE	COMPRESS_BYTE_COUNT	741826
+SHUFFLE	COPY_MAP_DATA	46388000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5051348
+SHUFFLE	COMPRESS_BYTE_COUNT	740913
+SHUFFLE	COPY_MAP_DATA	45597000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5062364
+SHUFFLE	COMPRESS_BYTE_COUNT	742646
+SHUFFLE	COPY_MAP_DATA	485662000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5077154
+SHUFFLE	COMPRESS_BYTE_COUNT	744424
+SHUFFLE	COPY_MAP_DATA	55427000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5056958
+SHUFFLE	COMPRESS_BYTE_COUNT	742068
+SHUFFLE	COPY_MAP_DATA	63032000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5109080
+SHUFFLE	COMPRESS_BYTE_COUNT	749169
+SHUFFLE	COPY_MAP_DATA	207251000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5042168
+SHUFFLE	COMPRESS_BYTE_COUNT	739889
+SHUFFLE	COPY_MAP_DATA	281536000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5025848
+SHUFFLE	COMPRESS_BYTE_COUNT	737469
+SHUFFLE	COPY_MAP_DATA	64746000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5072768
+SHUFFLE	COMPRESS_BYTE_COUNT	744332
+SHUFFLE	COPY_MAP_DATA	93109000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5094800
+SHUFFLE	COMPRESS_BYTE_COUNT	747406
+SHUFFLE	COPY_MAP_DATA	1283400000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5059304
+SHUFFLE	COMPRESS_BYTE_COUNT	741850
+SHUFFLE	COPY_MAP_DATA	55664000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5059712
+SHUFFLE	COMPRESS_BYTE_COUNT	742515
+SHUFFLE	COPY_MAP_DATA	45675000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5066852
+SHUFFLE	COMPRESS_BYTE_COUNT	743476
+SHUFFLE	COPY_MAP_DATA	44742000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5092556
+SHUFFLE	COMPRESS_BYTE_COUNT	746593
+SHUFFLE	COPY_MAP_DATA	1065960000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5039822
+SHUFFLE	COMPRESS_BYTE_COUNT	739187
+SHUFFLE	COPY_MAP_DATA	50189000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5063588
+SHUFFLE	COMPRESS_BYTE_COUNT	742951
+SHUFFLE	COPY_MAP_DATA	746154000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5070830
+SHUFFLE	COMPRESS_BYTE_COUNT	743499
+SHUFFLE	COPY_MAP_DATA	77571000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5044004
+SHUFFLE	COMPRESS_BYTE_COUNT	739959
+SHUFFLE	COPY_MAP_DATA	120736000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5092454
+SHUFFLE	COMPRESS_BYTE_COUNT	747150
+SHUFFLE	COPY_MAP_DATA	145998000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5088782
+SHUFFLE	COMPRESS_BYTE_COUNT	741608
+SHUFFLE	COPY_MAP_DATA	159276000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5064812
+SHUFFLE	COMPRESS_BYTE_COUNT	743159
+SHUFFLE	COPY_MAP_DATA	329836000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5076032
+SHUFFLE	COMPRESS_BYTE_COUNT	744312
+SHUFFLE	COPY_MAP_DATA	2458029000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5066444
+SHUFFLE	COMPRESS_BYTE_COUNT	742997
+SHUFFLE	COPY_MAP_DATA	46238000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5046962
+SHUFFLE	COMPRESS_BYTE_COUNT	740160
+SHUFFLE	COPY_MAP_DATA	532282000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5121728
+SHUFFLE	COMPRESS_BYTE_COUNT	750869
+SHUFFLE	COPY_MAP_DATA	75220000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5083376
+SHUFFLE	COMPRESS_BYTE_COUNT	745472
+SHUFFLE	COPY_MAP_DATA	54373000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5024726
+SHUFFLE	COMPRESS_BYTE_COUNT	737584
+SHUFFLE	COPY_MAP_DATA	511473000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5073074
+SHUFFLE	COMPRESS_BYTE_COUNT	744222
+SHUFFLE	COPY_MAP_DATA	52676000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5059814
+SHUFFLE	COMPRESS_BYTE_COUNT	742340
+SHUFFLE	COPY_MAP_DATA	225435000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5082968
+SHUFFLE	COMPRESS_BYTE_COUNT	745634
+SHUFFLE	COPY_MAP_DATA	2894649000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5062160
+SHUFFLE	COMPRESS_BYTE_COUNT	742420
+SHUFFLE	COPY_MAP_DATA	320724000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5061140
+SHUFFLE	COMPRESS_BYTE_COUNT	742538
+SHUFFLE	COPY_MAP_DATA	164527000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5085620
+SHUFFLE	COMPRESS_BYTE_COUNT	746393
+SHUFFLE	COPY_MAP_DATA	531922000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5040332
+SHUFFLE	COMPRESS_BYTE_COUNT	739264
+SHUFFLE	COPY_MAP_DATA	43967000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5034518
+SHUFFLE	COMPRESS_BYTE_COUNT	738436
+SHUFFLE	COPY_MAP_DATA	52421000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5026256
+SHUFFLE	COMPRESS_BYTE_COUNT	737465
+SHUFFLE	COPY_MAP_DATA	1330162000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5041658
+SHUFFLE	COMPRESS_BYTE_COUNT	739698
+SHUFFLE	COPY_MAP_DATA	5639495000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5017484
+SHUFFLE	COMPRESS_BYTE_COUNT	736027
+SHUFFLE	COPY_MAP_DATA	76044000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5066852
+SHUFFLE	COMPRESS_BYTE_COUNT	742996
+SHUFFLE	COPY_MAP_DATA	2966361000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5036864
+SHUFFLE	COMPRESS_BYTE_COUNT	739116
+SHUFFLE	COPY_MAP_DATA	83039000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5014322
+SHUFFLE	COMPRESS_BYTE_COUNT	735696
+SHUFFLE	COPY_MAP_DATA	44421000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5083580
+SHUFFLE	COMPRESS_BYTE_COUNT	745807
+SHUFFLE	COPY_MAP_DATA	48022000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5096942
+SHUFFLE	COMPRESS_BYTE_COUNT	747113
+SHUFFLE	COPY_MAP_DATA	50889000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5093780
+SHUFFLE	COMPRESS_BYTE_COUNT	746906
+SHUFFLE	COPY_MAP_DATA	3534684000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5011262
+SHUFFLE	COMPRESS_BYTE_COUNT	735446
+SHUFFLE	COPY_MAP_DATA	85734000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5042678
+SHUFFLE	COMPRESS_BYTE_COUNT	739264
+SHUFFLE	COPY_MAP_DATA	1362386000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5047880
+SHUFFLE	COMPRESS_BYTE_COUNT	740880
+SHUFFLE	COPY_MAP_DATA	79638000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5092760
+SHUFFLE	COMPRESS_BYTE_COUNT	747370
+SHUFFLE	COPY_MAP_DATA	43922000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5049104
+SHUFFLE	COMPRESS_BYTE_COUNT	740815
+SHUFFLE	COPY_MAP_DATA	43001000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5052674
+SHUFFLE	COMPRESS_BYTE_COUNT	741331
+SHUFFLE	COPY_MAP_DATA	517664000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5077256
+SHUFFLE	COMPRESS_BYTE_COUNT	744121
+SHUFFLE	COPY_MAP_DATA	194319000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5064812
+SHUFFLE	COMPRESS_BYTE_COUNT	743238
+SHUFFLE	COPY_MAP_DATA	6587052000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5076440
+SHUFFLE	COMPRESS_BYTE_COUNT	744420
+SHUFFLE	COPY_MAP_DATA	45181000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5064404
+SHUFFLE	COMPRESS_BYTE_COUNT	742716
+SHUFFLE	COPY_MAP_DATA	48969000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5057774
+SHUFFLE	COMPRESS_BYTE_COUNT	741679
+SHUFFLE	COPY_MAP_DATA	55016000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5053082
+SHUFFLE	COMPRESS_BYTE_COUNT	741393
+SHUFFLE	COPY_MAP_DATA	169167000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5049614
+SHUFFLE	COMPRESS_BYTE_COUNT	740913
+SHUFFLE	COPY_MAP_DATA	1226350000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5069606
+SHUFFLE	COMPRESS_BYTE_COUNT	743264
+SHUFFLE	COPY_MAP_DATA	70644000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5030540
+SHUFFLE	COMPRESS_BYTE_COUNT	737836
+SHUFFLE	COPY_MAP_DATA	46040000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5051552
+SHUFFLE	COMPRESS_BYTE_COUNT	741080
+SHUFFLE	COPY_MAP_DATA	241892000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5067872
+SHUFFLE	COMPRESS_BYTE_COUNT	743408
+SHUFFLE	COPY_MAP_DATA	92714000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5046962
+SHUFFLE	COMPRESS_BYTE_COUNT	740539
+SHUFFLE	COPY_MAP_DATA	784181000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5052674
+SHUFFLE	COMPRESS_BYTE_COUNT	741396
+SHUFFLE	COPY_MAP_DATA	45213000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5006570
+SHUFFLE	COMPRESS_BYTE_COUNT	734122
+SHUFFLE	COPY_MAP_DATA	61617000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5084090
+SHUFFLE	COMPRESS_BYTE_COUNT	745583
+SHUFFLE	COPY_MAP_DATA	341336000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5052980
+SHUFFLE	COMPRESS_BYTE_COUNT	741174
+SHUFFLE	COPY_MAP_DATA	43743000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5058488
+SHUFFLE	COMPRESS_BYTE_COUNT	741599
+SHUFFLE	COPY_MAP_DATA	79479000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5062262
+SHUFFLE	COMPRESS_BYTE_COUNT	742542
+SHUFFLE	COPY_MAP_DATA	137758000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5064404
+SHUFFLE	COMPRESS_BYTE_COUNT	742823
+SHUFFLE	COPY_MAP_DATA	198572000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5092760
+SHUFFLE	COMPRESS_BYTE_COUNT	747367
+SHUFFLE	COPY_MAP_DATA	54998000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5077766
+SHUFFLE	COMPRESS_BYTE_COUNT	744846
+SHUFFLE	COPY_MAP_DATA	47260000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5057264
+SHUFFLE	COMPRESS_BYTE_COUNT	742114
+SHUFFLE	COPY_MAP_DATA	190216000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5095718
+SHUFFLE	COMPRESS_BYTE_COUNT	747821
+SHUFFLE	COPY_MAP_DATA	157700000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5043392
+SHUFFLE	COMPRESS_BYTE_COUNT	739606
+SHUFFLE	COPY_MAP_DATA	43620000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5037476
+SHUFFLE	COMPRESS_BYTE_COUNT	738658
+SHUFFLE	COPY_MAP_DATA	45865000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5055020
+SHUFFLE	COMPRESS_BYTE_COUNT	741597
+SHUFFLE	COPY_MAP_DATA	92624000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5082662
+SHUFFLE	COMPRESS_BYTE_COUNT	745482
+SHUFFLE	COPY_MAP_DATA	47736000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5079806
+SHUFFLE	COMPRESS_BYTE_COUNT	745248
+SHUFFLE	COPY_MAP_DATA	46256000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5062874
+SHUFFLE	COMPRESS_BYTE_COUNT	742393
+SHUFFLE	COPY_MAP_DATA	58900000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5055428
+SHUFFLE	COMPRESS_BYTE_COUNT	741126
+SHUFFLE	COPY_MAP_DATA	44720000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5047982
+SHUFFLE	COMPRESS_BYTE_COUNT	740533
+SHUFFLE	COPY_MAP_DATA	204714000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5033702
+SHUFFLE	COMPRESS_BYTE_COUNT	737944
+SHUFFLE	COPY_MAP_DATA	50325000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5058896
+SHUFFLE	COMPRESS_BYTE_COUNT	742192
+SHUFFLE	COPY_MAP_DATA	66450000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5089700
+SHUFFLE	COMPRESS_BYTE_COUNT	746876
+SHUFFLE	COPY_MAP_DATA	62611000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5032988
+SHUFFLE	COMPRESS_BYTE_COUNT	738280
+SHUFFLE	COPY_MAP_DATA	66827000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5077256
+SHUFFLE	COMPRESS_BYTE_COUNT	744834
+SHUFFLE	COPY_MAP_DATA	44926000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5094086
+SHUFFLE	COMPRESS_BYTE_COUNT	747447
+SHUFFLE	COPY_MAP_DATA	76647000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5013200
+SHUFFLE	COMPRESS_BYTE_COUNT	735640
+SHUFFLE	COPY_MAP_DATA	44184000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5065322
+SHUFFLE	COMPRESS_BYTE_COUNT	742943
+SHUFFLE	COPY_MAP_DATA	348476000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5036456
+SHUFFLE	COMPRESS_BYTE_COUNT	738905
+SHUFFLE	COPY_MAP_DATA	190533000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5079296
+SHUFFLE	COMPRESS_BYTE_COUNT	744622
+SHUFFLE	COPY_MAP_DATA	92612000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5016158
+SHUFFLE	COMPRESS_BYTE_COUNT	735799
+SHUFFLE	COPY_MAP_DATA	42587000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5056142
+SHUFFLE	COMPRESS_BYTE_COUNT	741648
+SHUFFLE	COPY_MAP_DATA	145907000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5046248
+SHUFFLE	COMPRESS_BYTE_COUNT	740193
+SHUFFLE	COPY_MAP_DATA	1694936000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5059916
+SHUFFLE	COMPRESS_BYTE_COUNT	742521
+SHUFFLE	COPY_MAP_DATA	1335158000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5063486
+SHUFFLE	COMPRESS_BYTE_COUNT	743045
+SHUFFLE	COPY_MAP_DATA	51791000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5044310
+SHUFFLE	COMPRESS_BYTE_COUNT	739855
+SHUFFLE	COPY_MAP_DATA	266999000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5094188
+SHUFFLE	COMPRESS_BYTE_COUNT	747380
+SHUFFLE	COPY_MAP_DATA	201358000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5087048
+SHUFFLE	COMPRESS_BYTE_COUNT	746459
+SHUFFLE	COPY_MAP_DATA	392476000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5063894
+SHUFFLE	COMPRESS_BYTE_COUNT	742851
+SHUFFLE	COPY_MAP_DATA	47131000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5051348
+SHUFFLE	COMPRESS_BYTE_COUNT	740930
+SHUFFLE	COPY_MAP_DATA	222390000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5077256
+SHUFFLE	COMPRESS_BYTE_COUNT	744278
+SHUFFLE	COPY_MAP_DATA	509113000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5070626
+SHUFFLE	COMPRESS_BYTE_COUNT	743583
+SHUFFLE	COPY_MAP_DATA	60961000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5021564
+SHUFFLE	COMPRESS_BYTE_COUNT	729611
+SHUFFLE	COPY_MAP_DATA	41360000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5062976
+SHUFFLE	COMPRESS_BYTE_COUNT	742624
+SHUFFLE	COPY_MAP_DATA	74187000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5043392
+SHUFFLE	COMPRESS_BYTE_COUNT	739609
+SHUFFLE	COPY_MAP_DATA	299235000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5061038
+SHUFFLE	COMPRESS_BYTE_COUNT	742480
+SHUFFLE	COPY_MAP_DATA	672891000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5053184
+SHUFFLE	COMPRESS_BYTE_COUNT	740918
+SHUFFLE	COPY_MAP_DATA	58294000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5033702
+SHUFFLE	COMPRESS_BYTE_COUNT	738797
+SHUFFLE	COPY_MAP_DATA	4108231000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5053388
+SHUFFLE	COMPRESS_BYTE_COUNT	740873
+SHUFFLE	COPY_MAP_DATA	44578000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1180142
+SHUFFLE	COMPRESS_BYTE_COUNT	171361
+SHUFFLE	COPY_MAP_DATA	12618000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5057978
+SHUFFLE	COMPRESS_BYTE_COUNT	742176
+SHUFFLE	COPY_MAP_DATA	175713000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5055020
+SHUFFLE	COMPRESS_BYTE_COUNT	741236
+SHUFFLE	COPY_MAP_DATA	41961000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5080826
+SHUFFLE	COMPRESS_BYTE_COUNT	744771
+SHUFFLE	COPY_MAP_DATA	113061000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5073482
+SHUFFLE	COMPRESS_BYTE_COUNT	743715
+SHUFFLE	COPY_MAP_DATA	318040000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1190240
+SHUFFLE	COMPRESS_BYTE_COUNT	172787
+SHUFFLE	COPY_MAP_DATA	18228000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5037578
+SHUFFLE	COMPRESS_BYTE_COUNT	739074
+SHUFFLE	COPY_MAP_DATA	4520506000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1164128
+SHUFFLE	COMPRESS_BYTE_COUNT	169168
+SHUFFLE	COPY_MAP_DATA	12440000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5072054
+SHUFFLE	COMPRESS_BYTE_COUNT	744231
+SHUFFLE	COPY_MAP_DATA	75227000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5057162
+SHUFFLE	COMPRESS_BYTE_COUNT	742057
+SHUFFLE	COPY_MAP_DATA	45546000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5091230
+SHUFFLE	COMPRESS_BYTE_COUNT	747247
+SHUFFLE	COPY_MAP_DATA	43530000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5065322
+SHUFFLE	COMPRESS_BYTE_COUNT	743324
+SHUFFLE	COPY_MAP_DATA	626021000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5060936
+SHUFFLE	COMPRESS_BYTE_COUNT	742467
+SHUFFLE	COPY_MAP_DATA	188137000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1206050
+SHUFFLE	COMPRESS_BYTE_COUNT	175046
+SHUFFLE	COPY_MAP_DATA	22666000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5084396
+SHUFFLE	COMPRESS_BYTE_COUNT	745570
+SHUFFLE	COPY_MAP_DATA	242782000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5100206
+SHUFFLE	COMPRESS_BYTE_COUNT	747969
+SHUFFLE	COPY_MAP_DATA	943565000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5042576
+SHUFFLE	COMPRESS_BYTE_COUNT	740163
+SHUFFLE	COPY_MAP_DATA	163941000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5050736
+SHUFFLE	COMPRESS_BYTE_COUNT	741169
+SHUFFLE	COPY_MAP_DATA	402866000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5089904
+SHUFFLE	COMPRESS_BYTE_COUNT	746409
+SHUFFLE	COPY_MAP_DATA	260842000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1192892
+SHUFFLE	COMPRESS_BYTE_COUNT	173200
+SHUFFLE	COPY_MAP_DATA	91819000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5066546
+SHUFFLE	COMPRESS_BYTE_COUNT	743305
+SHUFFLE	COPY_MAP_DATA	245390000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5082458
+SHUFFLE	COMPRESS_BYTE_COUNT	745761
+SHUFFLE	COPY_MAP_DATA	103264000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5064914
+SHUFFLE	COMPRESS_BYTE_COUNT	742700
+SHUFFLE	COPY_MAP_DATA	68560000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5020442
+SHUFFLE	COMPRESS_BYTE_COUNT	736541
+SHUFFLE	COPY_MAP_DATA	2201264000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5053082
+SHUFFLE	COMPRESS_BYTE_COUNT	741410
+SHUFFLE	COPY_MAP_DATA	44629000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5072564
+SHUFFLE	COMPRESS_BYTE_COUNT	743848
+SHUFFLE	COPY_MAP_DATA	530122000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5044208
+SHUFFLE	COMPRESS_BYTE_COUNT	739578
+SHUFFLE	COPY_MAP_DATA	5242939000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1188098
+SHUFFLE	COMPRESS_BYTE_COUNT	172423
+SHUFFLE	COPY_MAP_DATA	29017000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5038496
+SHUFFLE	COMPRESS_BYTE_COUNT	739539
+SHUFFLE	COPY_MAP_DATA	43944000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5101022
+SHUFFLE	COMPRESS_BYTE_COUNT	748004
+SHUFFLE	COPY_MAP_DATA	5773144000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1208600
+SHUFFLE	COMPRESS_BYTE_COUNT	175528
+SHUFFLE	COPY_MAP_DATA	14785000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1163516
+SHUFFLE	COMPRESS_BYTE_COUNT	168953
+SHUFFLE	COPY_MAP_DATA	614816000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5076032
+SHUFFLE	COMPRESS_BYTE_COUNT	744981
+SHUFFLE	COPY_MAP_DATA	103269000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5042168
+SHUFFLE	COMPRESS_BYTE_COUNT	739776
+SHUFFLE	COPY_MAP_DATA	3256668000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5070014
+SHUFFLE	COMPRESS_BYTE_COUNT	743557
+SHUFFLE	COPY_MAP_DATA	44736000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5076542
+SHUFFLE	COMPRESS_BYTE_COUNT	744451
+SHUFFLE	COPY_MAP_DATA	1557817000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5074706
+SHUFFLE	COMPRESS_BYTE_COUNT	744491
+SHUFFLE	COPY_MAP_DATA	604773000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1182284
+SHUFFLE	COMPRESS_BYTE_COUNT	171602
+SHUFFLE	COPY_MAP_DATA	2023059000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5088374
+SHUFFLE	COMPRESS_BYTE_COUNT	746530
+SHUFFLE	COPY_MAP_DATA	53199000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5065016
+SHUFFLE	COMPRESS_BYTE_COUNT	743001
+SHUFFLE	COPY_MAP_DATA	382847000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5057264
+SHUFFLE	COMPRESS_BYTE_COUNT	741685
+SHUFFLE	COPY_MAP_DATA	3654940000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5077460
+SHUFFLE	COMPRESS_BYTE_COUNT	744819
+SHUFFLE	COPY_MAP_DATA	45970000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1191158
+SHUFFLE	COMPRESS_BYTE_COUNT	173024
+SHUFFLE	COPY_MAP_DATA	12726000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5042678
+SHUFFLE	COMPRESS_BYTE_COUNT	740007
+SHUFFLE	COPY_MAP_DATA	109529000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1192280
+SHUFFLE	COMPRESS_BYTE_COUNT	173190
+SHUFFLE	COPY_MAP_DATA	11963000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1191668
+SHUFFLE	COMPRESS_BYTE_COUNT	172998
+SHUFFLE	COPY_MAP_DATA	12180000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5110304
+SHUFFLE	COMPRESS_BYTE_COUNT	749321
+SHUFFLE	COPY_MAP_DATA	2345978000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5069708
+SHUFFLE	COMPRESS_BYTE_COUNT	743219
+SHUFFLE	COPY_MAP_DATA	46341000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5067872
+SHUFFLE	COMPRESS_BYTE_COUNT	743233
+SHUFFLE	COPY_MAP_DATA	348914000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5076644
+SHUFFLE	COMPRESS_BYTE_COUNT	744461
+SHUFFLE	COPY_MAP_DATA	43657000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1194422
+SHUFFLE	COMPRESS_BYTE_COUNT	173521
+SHUFFLE	COPY_MAP_DATA	22769000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1193504
+SHUFFLE	COMPRESS_BYTE_COUNT	173376
+SHUFFLE	COPY_MAP_DATA	12740000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5045942
+SHUFFLE	COMPRESS_BYTE_COUNT	740587
+SHUFFLE	COPY_MAP_DATA	43445000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5035946
+SHUFFLE	COMPRESS_BYTE_COUNT	738650
+SHUFFLE	COPY_MAP_DATA	46280000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1182080
+SHUFFLE	COMPRESS_BYTE_COUNT	171625
+SHUFFLE	COPY_MAP_DATA	13335000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1188200
+SHUFFLE	COMPRESS_BYTE_COUNT	172375
+SHUFFLE	COPY_MAP_DATA	12533000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1192892
+SHUFFLE	COMPRESS_BYTE_COUNT	173301
+SHUFFLE	COPY_MAP_DATA	12933000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1207784
+SHUFFLE	COMPRESS_BYTE_COUNT	175435
+SHUFFLE	COPY_MAP_DATA	12336000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1194626
+SHUFFLE	COMPRESS_BYTE_COUNT	173563
+SHUFFLE	COPY_MAP_DATA	110265000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1205846
+SHUFFLE	COMPRESS_BYTE_COUNT	174938
+SHUFFLE	COPY_MAP_DATA	12464000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1175756
+SHUFFLE	COMPRESS_BYTE_COUNT	170777
+SHUFFLE	COPY_MAP_DATA	10877000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5010854
+SHUFFLE	COMPRESS_BYTE_COUNT	735438
+SHUFFLE	COPY_MAP_DATA	1165597000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5074604
+SHUFFLE	COMPRESS_BYTE_COUNT	744309
+SHUFFLE	COPY_MAP_DATA	9842955000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5047574
+SHUFFLE	COMPRESS_BYTE_COUNT	740857
+SHUFFLE	COPY_MAP_DATA	124675000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1186058
+SHUFFLE	COMPRESS_BYTE_COUNT	172113
+SHUFFLE	COPY_MAP_DATA	13340000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5040944
+SHUFFLE	COMPRESS_BYTE_COUNT	739205
+SHUFFLE	COPY_MAP_DATA	45490000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1192382
+SHUFFLE	COMPRESS_BYTE_COUNT	173204
+SHUFFLE	COPY_MAP_DATA	13975000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1179836
+SHUFFLE	COMPRESS_BYTE_COUNT	171354
+SHUFFLE	COPY_MAP_DATA	13312000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5071646
+SHUFFLE	COMPRESS_BYTE_COUNT	744073
+SHUFFLE	COPY_MAP_DATA	524915000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1193198
+SHUFFLE	COMPRESS_BYTE_COUNT	173375
+SHUFFLE	COPY_MAP_DATA	64780000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1188098
+SHUFFLE	COMPRESS_BYTE_COUNT	172489
+SHUFFLE	COPY_MAP_DATA	13054000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1197584
+SHUFFLE	COMPRESS_BYTE_COUNT	173893
+SHUFFLE	COPY_MAP_DATA	491560000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5088884
+SHUFFLE	COMPRESS_BYTE_COUNT	746323
+SHUFFLE	COPY_MAP_DATA	183314000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1200644
+SHUFFLE	COMPRESS_BYTE_COUNT	174422
+SHUFFLE	COPY_MAP_DATA	268102000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5070218
+SHUFFLE	COMPRESS_BYTE_COUNT	743584
+SHUFFLE	COPY_MAP_DATA	7159850000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1194218
+SHUFFLE	COMPRESS_BYTE_COUNT	173444
+SHUFFLE	COPY_MAP_DATA	13339000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1186364
+SHUFFLE	COMPRESS_BYTE_COUNT	172272
+SHUFFLE	COPY_MAP_DATA	11972000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1186160
+SHUFFLE	COMPRESS_BYTE_COUNT	172319
+SHUFFLE	COPY_MAP_DATA	208765000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5073584
+SHUFFLE	COMPRESS_BYTE_COUNT	743996
+SHUFFLE	COPY_MAP_DATA	44932000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1205744
+SHUFFLE	COMPRESS_BYTE_COUNT	174950
+SHUFFLE	COPY_MAP_DATA	13752000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5070524
+SHUFFLE	COMPRESS_BYTE_COUNT	743871
+SHUFFLE	COPY_MAP_DATA	45341000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1194422
+SHUFFLE	COMPRESS_BYTE_COUNT	173444
+SHUFFLE	COPY_MAP_DATA	4915099000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1186466
+SHUFFLE	COMPRESS_BYTE_COUNT	172187
+SHUFFLE	COPY_MAP_DATA	17678000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1194626
+SHUFFLE	COMPRESS_BYTE_COUNT	173509
+SHUFFLE	COPY_MAP_DATA	16711000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1185038
+SHUFFLE	COMPRESS_BYTE_COUNT	171984
+SHUFFLE	COPY_MAP_DATA	14134000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5053082
+SHUFFLE	COMPRESS_BYTE_COUNT	741392
+SHUFFLE	COPY_MAP_DATA	471438000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1189832
+SHUFFLE	COMPRESS_BYTE_COUNT	172616
+SHUFFLE	COPY_MAP_DATA	166082000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1190138
+SHUFFLE	COMPRESS_BYTE_COUNT	172757
+SHUFFLE	COPY_MAP_DATA	3118979000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1195238
+SHUFFLE	COMPRESS_BYTE_COUNT	173531
+SHUFFLE	COPY_MAP_DATA	14175000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5070626
+SHUFFLE	COMPRESS_BYTE_COUNT	743886
+SHUFFLE	COPY_MAP_DATA	1598666000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1185956
+SHUFFLE	COMPRESS_BYTE_COUNT	172343
+SHUFFLE	COPY_MAP_DATA	13229000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1200440
+SHUFFLE	COMPRESS_BYTE_COUNT	174203
+SHUFFLE	COPY_MAP_DATA	100910000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1189628
+SHUFFLE	COMPRESS_BYTE_COUNT	172690
+SHUFFLE	COPY_MAP_DATA	61965000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1189934
+SHUFFLE	COMPRESS_BYTE_COUNT	172668
+SHUFFLE	COPY_MAP_DATA	841668000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1176470
+SHUFFLE	COMPRESS_BYTE_COUNT	170840
+SHUFFLE	COPY_MAP_DATA	14226000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1190138
+SHUFFLE	COMPRESS_BYTE_COUNT	172773
+SHUFFLE	COPY_MAP_DATA	13532000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1185038
+SHUFFLE	COMPRESS_BYTE_COUNT	171983
+SHUFFLE	COPY_MAP_DATA	18373000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1192586
+SHUFFLE	COMPRESS_BYTE_COUNT	173184
+SHUFFLE	COPY_MAP_DATA	12628000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1192382
+SHUFFLE	COMPRESS_BYTE_COUNT	172993
+SHUFFLE	COPY_MAP_DATA	33302000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1179428
+SHUFFLE	COMPRESS_BYTE_COUNT	171204
+SHUFFLE	COPY_MAP_DATA	1008983000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5054612
+SHUFFLE	COMPRESS_BYTE_COUNT	741308
+SHUFFLE	COPY_MAP_DATA	4917580000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1207988
+SHUFFLE	COMPRESS_BYTE_COUNT	175223
+SHUFFLE	COPY_MAP_DATA	12806000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5056040
+SHUFFLE	COMPRESS_BYTE_COUNT	741889
+SHUFFLE	COPY_MAP_DATA	46595000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1199114
+SHUFFLE	COMPRESS_BYTE_COUNT	173991
+SHUFFLE	COPY_MAP_DATA	56871000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1202072
+SHUFFLE	COMPRESS_BYTE_COUNT	174569
+SHUFFLE	COPY_MAP_DATA	13086000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5020034
+SHUFFLE	COMPRESS_BYTE_COUNT	736330
+SHUFFLE	COPY_MAP_DATA	210191000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1192382
+SHUFFLE	COMPRESS_BYTE_COUNT	173214
+SHUFFLE	COPY_MAP_DATA	14101000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5080010
+SHUFFLE	COMPRESS_BYTE_COUNT	745496
+SHUFFLE	COPY_MAP_DATA	68108000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5031560
+SHUFFLE	COMPRESS_BYTE_COUNT	737687
+SHUFFLE	COPY_MAP_DATA	253145000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1171880
+SHUFFLE	COMPRESS_BYTE_COUNT	170263
+SHUFFLE	COPY_MAP_DATA	11173000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1177898
+SHUFFLE	COMPRESS_BYTE_COUNT	171028
+SHUFFLE	COPY_MAP_DATA	10920000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1228286
+SHUFFLE	COMPRESS_BYTE_COUNT	178169
+SHUFFLE	COPY_MAP_DATA	14341000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1179938
+SHUFFLE	COMPRESS_BYTE_COUNT	171386
+SHUFFLE	COPY_MAP_DATA	11915000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1179836
+SHUFFLE	COMPRESS_BYTE_COUNT	171336
+SHUFFLE	COPY_MAP_DATA	1699693000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1214414
+SHUFFLE	COMPRESS_BYTE_COUNT	176396
+SHUFFLE	COPY_MAP_DATA	408207000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1202174
+SHUFFLE	COMPRESS_BYTE_COUNT	174551
+SHUFFLE	COPY_MAP_DATA	43698000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1198910
+SHUFFLE	COMPRESS_BYTE_COUNT	174040
+SHUFFLE	COPY_MAP_DATA	12193000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1190240
+SHUFFLE	COMPRESS_BYTE_COUNT	172795
+SHUFFLE	COPY_MAP_DATA	69146000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1203194
+SHUFFLE	COMPRESS_BYTE_COUNT	174675
+SHUFFLE	COPY_MAP_DATA	81097000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1184528
+SHUFFLE	COMPRESS_BYTE_COUNT	171989
+SHUFFLE	COPY_MAP_DATA	12561000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1184936
+SHUFFLE	COMPRESS_BYTE_COUNT	172037
+SHUFFLE	COPY_MAP_DATA	13047000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1184018
+SHUFFLE	COMPRESS_BYTE_COUNT	172036
+SHUFFLE	COPY_MAP_DATA	12990000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1183508
+SHUFFLE	COMPRESS_BYTE_COUNT	172045
+SHUFFLE	COPY_MAP_DATA	12519000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1169738
+SHUFFLE	COMPRESS_BYTE_COUNT	169816
+SHUFFLE	COPY_MAP_DATA	12254000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5085722
+SHUFFLE	COMPRESS_BYTE_COUNT	745860
+SHUFFLE	COPY_MAP_DATA	44729000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1179632
+SHUFFLE	COMPRESS_BYTE_COUNT	171131
+SHUFFLE	COPY_MAP_DATA	13670000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1189322
+SHUFFLE	COMPRESS_BYTE_COUNT	172652
+SHUFFLE	COPY_MAP_DATA	974643000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1204316
+SHUFFLE	COMPRESS_BYTE_COUNT	174825
+SHUFFLE	COPY_MAP_DATA	335531000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1206662
+SHUFFLE	COMPRESS_BYTE_COUNT	175315
+SHUFFLE	COPY_MAP_DATA	12054000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1209722
+SHUFFLE	COMPRESS_BYTE_COUNT	175478
+SHUFFLE	COPY_MAP_DATA	12438000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1213904
+SHUFFLE	COMPRESS_BYTE_COUNT	176247
+SHUFFLE	COPY_MAP_DATA	12749000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1183610
+SHUFFLE	COMPRESS_BYTE_COUNT	171862
+SHUFFLE	COPY_MAP_DATA	11777000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1175654
+SHUFFLE	COMPRESS_BYTE_COUNT	170631
+SHUFFLE	COPY_MAP_DATA	28415000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1199420
+SHUFFLE	COMPRESS_BYTE_COUNT	174080
+SHUFFLE	COPY_MAP_DATA	31898000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1173920
+SHUFFLE	COMPRESS_BYTE_COUNT	170611
+SHUFFLE	COPY_MAP_DATA	13686000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1177286
+SHUFFLE	COMPRESS_BYTE_COUNT	170889
+SHUFFLE	COPY_MAP_DATA	50601000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1194320
+SHUFFLE	COMPRESS_BYTE_COUNT	173450
+SHUFFLE	COPY_MAP_DATA	12373000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1194218
+SHUFFLE	COMPRESS_BYTE_COUNT	173418
+SHUFFLE	COPY_MAP_DATA	11656000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1205744
+SHUFFLE	COMPRESS_BYTE_COUNT	175121
+SHUFFLE	COPY_MAP_DATA	21893000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1192076
+SHUFFLE	COMPRESS_BYTE_COUNT	173062
+SHUFFLE	COPY_MAP_DATA	11456000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1180040
+SHUFFLE	COMPRESS_BYTE_COUNT	171468
+SHUFFLE	COPY_MAP_DATA	11456000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1215026
+SHUFFLE	COMPRESS_BYTE_COUNT	176365
+SHUFFLE	COPY_MAP_DATA	11511000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1200032
+SHUFFLE	COMPRESS_BYTE_COUNT	174255
+SHUFFLE	COPY_MAP_DATA	14170000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1189322
+SHUFFLE	COMPRESS_BYTE_COUNT	172771
+SHUFFLE	COPY_MAP_DATA	11803000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1193810
+SHUFFLE	COMPRESS_BYTE_COUNT	173419
+SHUFFLE	COPY_MAP_DATA	12138000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1200440
+SHUFFLE	COMPRESS_BYTE_COUNT	174270
+SHUFFLE	COPY_MAP_DATA	14146000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1218596
+SHUFFLE	COMPRESS_BYTE_COUNT	177012
+SHUFFLE	COPY_MAP_DATA	12669000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1194932
+SHUFFLE	COMPRESS_BYTE_COUNT	173495
+SHUFFLE	COPY_MAP_DATA	12321000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1200236
+SHUFFLE	COMPRESS_BYTE_COUNT	174284
+SHUFFLE	COPY_MAP_DATA	13632000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1186568
+SHUFFLE	COMPRESS_BYTE_COUNT	172232
+SHUFFLE	COPY_MAP_DATA	23373000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1173206
+SHUFFLE	COMPRESS_BYTE_COUNT	170421
+SHUFFLE	COPY_MAP_DATA	11715000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1188098
+SHUFFLE	COMPRESS_BYTE_COUNT	172475
+SHUFFLE	COPY_MAP_DATA	106038000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1191158
+SHUFFLE	COMPRESS_BYTE_COUNT	172950
+SHUFFLE	COPY_MAP_DATA	656773000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1198298
+SHUFFLE	COMPRESS_BYTE_COUNT	174135
+SHUFFLE	COPY_MAP_DATA	137805000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1167902
+SHUFFLE	COMPRESS_BYTE_COUNT	169576
+SHUFFLE	COPY_MAP_DATA	11775000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1205642
+SHUFFLE	COMPRESS_BYTE_COUNT	175025
+SHUFFLE	COPY_MAP_DATA	44625000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1207784
+SHUFFLE	COMPRESS_BYTE_COUNT	175310
+SHUFFLE	COPY_MAP_DATA	23454000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	201374414000
+MERGE	READ_WRITE	195828334000
+MERGE	READ_WRITE_COUNT	8
+MERGE	COMBINE	0
+MERGE	WRITE	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	914857000
+SORT	READ_WRITE	856830000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	177322624
+REDUCE	SETUP	334000
+REDUCE	SETUP_MEM	177322624
+REDUCE	CLEANUP	33000
+REDUCE	CLEANUP_MEM	215705784
+REDUCE	TOTAL_RUN	150674601000
+REDUCE	READ	21838876000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	75706359000
+REDUCE	WRITE	28477549000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	110922970
+REDUCE	VALUE_BYTE_COUNT	976122136
+REDUCE	REDUCE_MEM	215705784
+REDUCE	WRITE	4480000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	686831712000
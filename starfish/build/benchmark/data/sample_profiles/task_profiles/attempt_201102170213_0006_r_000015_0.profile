@@ -0,0 +1,1229 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5012180
+SHUFFLE	COMPRESS_BYTE_COUNT	735496
+SHUFFLE	COPY_MAP_DATA	291194000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5040230
+SHUFFLE	COMPRESS_BYTE_COUNT	739510
+SHUFFLE	COPY_MAP_DATA	167361000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5050124
+SHUFFLE	COMPRESS_BYTE_COUNT	740750
+SHUFFLE	COPY_MAP_DATA	83151000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5031560
+SHUFFLE	COMPRESS_BYTE_COUNT	737885
+SHUFFLE	COPY_MAP_DATA	55310000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5030336
+SHUFFLE	COMPRESS_BYTE_COUNT	738293
+SHUFFLE	COPY_MAP_DATA	150755000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5060324
+SHUFFLE	COMPRESS_BYTE_COUNT	742296
+SHUFFLE	COPY_MAP_DATA	157481000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5055224
+SHUFFLE	COMPRESS_BYTE_COUNT	741634
+SHUFFLE	COPY_MAP_DATA	58928000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5045330
+SHUFFLE	COMPRESS_BYTE_COUNT	740093
+SHUFFLE	COPY_MAP_DATA	217233000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5017892
+SHUFFLE	COMPRESS_BYTE_COUNT	735430
+SHUFFLE	COPY_MAP_DATA	265227000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5077052
+SHUFFLE	COMPRESS_BYTE_COUNT	744272
+SHUFFLE	COPY_MAP_DATA	117712000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5091740
+SHUFFLE	COMPRESS_BYTE_COUNT	745905
+SHUFFLE	COPY_MAP_DATA	137546000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5062466
+SHUFFLE	COMPRESS_BYTE_COUNT	742365
+SHUFFLE	COPY_MAP_DATA	49875000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5066036
+SHUFFLE	COMPRESS_BYTE_COUNT	742903
+SHUFFLE	COPY_MAP_DATA	59706000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5035844
+SHUFFLE	COMPRESS_BYTE_COUNT	738321
+SHUFFLE	COPY_MAP_DATA	220682000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5034110
+SHUFFLE	COMPRESS_BYTE_COUNT	738731
+SHUFFLE	COPY_MAP_DATA	81320000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5011874
+SHUFFLE	COMPRESS_BYTE_COUNT	735367
+SHUFFLE	COPY_MAP_DATA	50405000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5084906
+SHUFFLE	COMPRESS_BYTE_COUNT	745868
+SHUFFLE	COPY_MAP_DATA	70499000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5022890
+SHUFFLE	COMPRESS_BYTE_COUNT	736698
+SHUFFLE	COPY_MAP_DATA	59792000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5029622
+SHUFFLE	COMPRESS_BYTE_COUNT	737760
+SHUFFLE	COPY_MAP_DATA	203672000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5049002
+SHUFFLE	COMPRESS_BYTE_COUNT	740489
+SHUFFLE	COPY_MAP_DATA	2876004000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5024114
+SHUFFLE	COMPRESS_BYTE_COUNT	736821
+SHUFFLE	COPY_MAP_DATA	512747000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5047574
+SHUFFLE	COMPRESS_BYTE_COUNT	740479
+SHUFFLE	COPY_MAP_DATA	69601000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5022788
+SHUFFLE	COMPRESS_BYTE_COUNT	737048
+SHUFFLE	COPY_MAP_DATA	47115000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5026460
+SHUFFLE	COMPRESS_BYTE_COUNT	737453
+SHUFFLE	COPY_MAP_DATA	108081000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5035028
+SHUFFLE	COMPRESS_BYTE_COUNT	738532
+SHUFFLE	COPY_MAP_DATA	217691000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5031764
+SHUFFLE	COMPRESS_BYTE_COUNT	738449
+SHUFFLE	COPY_MAP_DATA	295882000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5057366
+SHUFFLE	COMPRESS_BYTE_COUNT	741535
+SHUFFLE	COPY_MAP_DATA	215815000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5102858
+SHUFFLE	COMPRESS_BYTE_COUNT	748019
+SHUFFLE	COPY_MAP_DATA	316643000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5063384
+SHUFFLE	COMPRESS_BYTE_COUNT	742864
+SHUFFLE	COPY_MAP_DATA	148005000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5053490
+SHUFFLE	COMPRESS_BYTE_COUNT	740807
+SHUFFLE	COPY_MAP_DATA	81022000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5031764
+SHUFFLE	COMPRESS_BYTE_COUNT	738185
+SHUFFLE	COPY_MAP_DATA	71845000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5025950
+SHUFFLE	COMPRESS_BYTE_COUNT	737333
+SHUFFLE	COPY_MAP_DATA	164693000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5020850
+SHUFFLE	COMPRESS_BYTE_COUNT	736383
+SHUFFLE	COPY_MAP_DATA	168272000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5075114
+SHUFFLE	COMPRESS_BYTE_COUNT	744334
+SHUFFLE	COPY_MAP_DATA	43623000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5040128
+SHUFFLE	COMPRESS_BYTE_COUNT	739337
+SHUFFLE	COPY_MAP_DATA	47358000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5048390
+SHUFFLE	COMPRESS_BYTE_COUNT	740827
+SHUFFLE	COPY_MAP_DATA	49757000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5024624
+SHUFFLE	COMPRESS_BYTE_COUNT	737419
+SHUFFLE	COPY_MAP_DATA	390236000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5063690
+SHUFFLE	COMPRESS_BYTE_COUNT	742546
+SHUFFLE	COPY_MAP_DATA	209176000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5046656
+SHUFFLE	COMPRESS_BYTE_COUNT	740056
+SHUFFLE	COPY_MAP_DATA	140995000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5086538
+SHUFFLE	COMPRESS_BYTE_COUNT	745740
+SHUFFLE	COPY_MAP_DATA	51653000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5019932
+SHUFFLE	COMPRESS_BYTE_COUNT	736023
+SHUFFLE	COPY_MAP_DATA	365396000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5009834
+SHUFFLE	COMPRESS_BYTE_COUNT	735061
+SHUFFLE	COPY_MAP_DATA	75416000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5055224
+SHUFFLE	COMPRESS_BYTE_COUNT	741368
+SHUFFLE	COPY_MAP_DATA	749899000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5036762
+SHUFFLE	COMPRESS_BYTE_COUNT	738783
+SHUFFLE	COPY_MAP_DATA	77104000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4990760
+SHUFFLE	COMPRESS_BYTE_COUNT	732273
+SHUFFLE	COPY_MAP_DATA	4258037000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5020544
+SHUFFLE	COMPRESS_BYTE_COUNT	736148
+SHUFFLE	COPY_MAP_DATA	49283000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5060630
+SHUFFLE	COMPRESS_BYTE_COUNT	742712
+SHUFFLE	COPY_MAP_DATA	44772000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5060834
+SHUFFLE	COMPRESS_BYTE_COUNT	742173
+SHUFFLE	COPY_MAP_DATA	477426000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5056958
+SHUFFLE	COMPRESS_BYTE_COUNT	741769
+SHUFFLE	COPY_MAP_DATA	215621000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5045534
+SHUFFLE	COMPRESS_BYTE_COUNT	740155
+SHUFFLE	COPY_MAP_DATA	185528000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5103674
+SHUFFLE	COMPRESS_BYTE_COUNT	748623
+SHUFFLE	COPY_MAP_DATA	48083000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5040842
+SHUFFLE	COMPRESS_BYTE_COUNT	739136
+SHUFFLE	COPY_MAP_DATA	117420000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5082662
+SHUFFLE	COMPRESS_BYTE_COUNT	740710
+SHUFFLE	COPY_MAP_DATA	174743000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5042678
+SHUFFLE	COMPRESS_BYTE_COUNT	739305
+SHUFFLE	COPY_MAP_DATA	2837784000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5023706
+SHUFFLE	COMPRESS_BYTE_COUNT	737013
+SHUFFLE	COPY_MAP_DATA	2993683000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5085620
+SHUFFLE	COMPRESS_BYTE_COUNT	745521
+SHUFFLE	COPY_MAP_DATA	430477000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4978826
+SHUFFLE	COMPRESS_BYTE_COUNT	730524
+SHUFFLE	COPY_MAP_DATA	297472000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5087048
+SHUFFLE	COMPRESS_BYTE_COUNT	745803
+SHUFFLE	COPY_MAP_DATA	1206501000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5061548
+SHUFFLE	COMPRESS_BYTE_COUNT	742227
+SHUFFLE	COPY_MAP_DATA	49787000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5077154
+SHUFFLE	COMPRESS_BYTE_COUNT	744856
+SHUFFLE	COPY_MAP_DATA	47114000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5072462
+SHUFFLE	COMPRESS_BYTE_COUNT	743968
+SHUFFLE	COPY_MAP_DATA	55066000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5051144
+SHUFFLE	COMPRESS_BYTE_COUNT	741090
+SHUFFLE	COPY_MAP_DATA	478793000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5051450
+SHUFFLE	COMPRESS_BYTE_COUNT	740723
+SHUFFLE	COPY_MAP_DATA	46031000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5065220
+SHUFFLE	COMPRESS_BYTE_COUNT	742892
+SHUFFLE	COPY_MAP_DATA	161504000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5084702
+SHUFFLE	COMPRESS_BYTE_COUNT	745372
+SHUFFLE	COPY_MAP_DATA	51419000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5055326
+SHUFFLE	COMPRESS_BYTE_COUNT	741688
+SHUFFLE	COPY_MAP_DATA	126133000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5009630
+SHUFFLE	COMPRESS_BYTE_COUNT	735114
+SHUFFLE	COPY_MAP_DATA	80263000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5064098
+SHUFFLE	COMPRESS_BYTE_COUNT	742750
+SHUFFLE	COPY_MAP_DATA	2751078000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5057876
+SHUFFLE	COMPRESS_BYTE_COUNT	741679
+SHUFFLE	COPY_MAP_DATA	62060000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5056958
+SHUFFLE	COMPRESS_BYTE_COUNT	741621
+SHUFFLE	COPY_MAP_DATA	354421000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5079704
+SHUFFLE	COMPRESS_BYTE_COUNT	745213
+SHUFFLE	COPY_MAP_DATA	86731000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5047676
+SHUFFLE	COMPRESS_BYTE_COUNT	740434
+SHUFFLE	COPY_MAP_DATA	474409000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5032478
+SHUFFLE	COMPRESS_BYTE_COUNT	737973
+SHUFFLE	COPY_MAP_DATA	117013000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5077562
+SHUFFLE	COMPRESS_BYTE_COUNT	744816
+SHUFFLE	COPY_MAP_DATA	1557397000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5037680
+SHUFFLE	COMPRESS_BYTE_COUNT	739389
+SHUFFLE	COPY_MAP_DATA	5645911000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5088884
+SHUFFLE	COMPRESS_BYTE_COUNT	746002
+SHUFFLE	COPY_MAP_DATA	4316287000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5068688
+SHUFFLE	COMPRESS_BYTE_COUNT	743508
+SHUFFLE	COPY_MAP_DATA	46366000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5008304
+SHUFFLE	COMPRESS_BYTE_COUNT	734259
+SHUFFLE	COPY_MAP_DATA	2902508000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5040128
+SHUFFLE	COMPRESS_BYTE_COUNT	739267
+SHUFFLE	COPY_MAP_DATA	168829000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5052572
+SHUFFLE	COMPRESS_BYTE_COUNT	741420
+SHUFFLE	COPY_MAP_DATA	189682000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5048288
+SHUFFLE	COMPRESS_BYTE_COUNT	740678
+SHUFFLE	COPY_MAP_DATA	103206000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5020136
+SHUFFLE	COMPRESS_BYTE_COUNT	736620
+SHUFFLE	COPY_MAP_DATA	48484000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5062772
+SHUFFLE	COMPRESS_BYTE_COUNT	742633
+SHUFFLE	COPY_MAP_DATA	6785472000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5034926
+SHUFFLE	COMPRESS_BYTE_COUNT	738167
+SHUFFLE	COPY_MAP_DATA	46600000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5054000
+SHUFFLE	COMPRESS_BYTE_COUNT	741547
+SHUFFLE	COPY_MAP_DATA	465402000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5047166
+SHUFFLE	COMPRESS_BYTE_COUNT	740044
+SHUFFLE	COPY_MAP_DATA	297086000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5025848
+SHUFFLE	COMPRESS_BYTE_COUNT	736719
+SHUFFLE	COPY_MAP_DATA	1687782318
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5070218
+SHUFFLE	COMPRESS_BYTE_COUNT	743409
+SHUFFLE	COPY_MAP_DATA	11437505000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5067770
+SHUFFLE	COMPRESS_BYTE_COUNT	743597
+SHUFFLE	COPY_MAP_DATA	51130000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5055428
+SHUFFLE	COMPRESS_BYTE_COUNT	741495
+SHUFFLE	COPY_MAP_DATA	324158000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5070218
+SHUFFLE	COMPRESS_BYTE_COUNT	743248
+SHUFFLE	COPY_MAP_DATA	350161000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5063078
+SHUFFLE	COMPRESS_BYTE_COUNT	742572
+SHUFFLE	COPY_MAP_DATA	108462000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5049104
+SHUFFLE	COMPRESS_BYTE_COUNT	740338
+SHUFFLE	COPY_MAP_DATA	58776000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5016974
+SHUFFLE	COMPRESS_BYTE_COUNT	735942
+SHUFFLE	COPY_MAP_DATA	850684000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4988006
+SHUFFLE	COMPRESS_BYTE_COUNT	732071
+SHUFFLE	COPY_MAP_DATA	93488000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5052368
+SHUFFLE	COMPRESS_BYTE_COUNT	740896
+SHUFFLE	COPY_MAP_DATA	875177000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5045636
+SHUFFLE	COMPRESS_BYTE_COUNT	740139
+SHUFFLE	COPY_MAP_DATA	45628000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5023604
+SHUFFLE	COMPRESS_BYTE_COUNT	736447
+SHUFFLE	COPY_MAP_DATA	61136000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5058896
+SHUFFLE	COMPRESS_BYTE_COUNT	742027
+SHUFFLE	COPY_MAP_DATA	49267000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5052776
+SHUFFLE	COMPRESS_BYTE_COUNT	741064
+SHUFFLE	COPY_MAP_DATA	332101000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5053490
+SHUFFLE	COMPRESS_BYTE_COUNT	740911
+SHUFFLE	COPY_MAP_DATA	46780000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5051552
+SHUFFLE	COMPRESS_BYTE_COUNT	741131
+SHUFFLE	COPY_MAP_DATA	3336582000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5039210
+SHUFFLE	COMPRESS_BYTE_COUNT	739328
+SHUFFLE	COPY_MAP_DATA	106777000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5050838
+SHUFFLE	COMPRESS_BYTE_COUNT	740799
+SHUFFLE	COPY_MAP_DATA	47360000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5053796
+SHUFFLE	COMPRESS_BYTE_COUNT	740905
+SHUFFLE	COPY_MAP_DATA	78168000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5042066
+SHUFFLE	COMPRESS_BYTE_COUNT	739771
+SHUFFLE	COPY_MAP_DATA	935048000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5057060
+SHUFFLE	COMPRESS_BYTE_COUNT	741628
+SHUFFLE	COPY_MAP_DATA	46494000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5028092
+SHUFFLE	COMPRESS_BYTE_COUNT	737855
+SHUFFLE	COPY_MAP_DATA	61776000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5034518
+SHUFFLE	COMPRESS_BYTE_COUNT	738188
+SHUFFLE	COPY_MAP_DATA	2056973276
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5021258
+SHUFFLE	COMPRESS_BYTE_COUNT	736489
+SHUFFLE	COPY_MAP_DATA	47715000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5110916
+SHUFFLE	COMPRESS_BYTE_COUNT	749152
+SHUFFLE	COPY_MAP_DATA	130627000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5052980
+SHUFFLE	COMPRESS_BYTE_COUNT	740792
+SHUFFLE	COPY_MAP_DATA	1386531000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5046758
+SHUFFLE	COMPRESS_BYTE_COUNT	740171
+SHUFFLE	COPY_MAP_DATA	122746000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5040434
+SHUFFLE	COMPRESS_BYTE_COUNT	739637
+SHUFFLE	COPY_MAP_DATA	71131000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5036864
+SHUFFLE	COMPRESS_BYTE_COUNT	738461
+SHUFFLE	COPY_MAP_DATA	278191000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5058488
+SHUFFLE	COMPRESS_BYTE_COUNT	742209
+SHUFFLE	COPY_MAP_DATA	73058000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5035028
+SHUFFLE	COMPRESS_BYTE_COUNT	738784
+SHUFFLE	COPY_MAP_DATA	1042195000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5020850
+SHUFFLE	COMPRESS_BYTE_COUNT	736032
+SHUFFLE	COPY_MAP_DATA	62432000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5061752
+SHUFFLE	COMPRESS_BYTE_COUNT	742091
+SHUFFLE	COPY_MAP_DATA	47483000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5043188
+SHUFFLE	COMPRESS_BYTE_COUNT	740010
+SHUFFLE	COPY_MAP_DATA	51029000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5012078
+SHUFFLE	COMPRESS_BYTE_COUNT	735392
+SHUFFLE	COPY_MAP_DATA	774756000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5030336
+SHUFFLE	COMPRESS_BYTE_COUNT	737626
+SHUFFLE	COPY_MAP_DATA	1026545000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5034314
+SHUFFLE	COMPRESS_BYTE_COUNT	738250
+SHUFFLE	COPY_MAP_DATA	50348000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5080826
+SHUFFLE	COMPRESS_BYTE_COUNT	744800
+SHUFFLE	COPY_MAP_DATA	344264000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5036558
+SHUFFLE	COMPRESS_BYTE_COUNT	738362
+SHUFFLE	COPY_MAP_DATA	161754000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5050226
+SHUFFLE	COMPRESS_BYTE_COUNT	740821
+SHUFFLE	COPY_MAP_DATA	163040000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5055632
+SHUFFLE	COMPRESS_BYTE_COUNT	741590
+SHUFFLE	COPY_MAP_DATA	2457251000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5030336
+SHUFFLE	COMPRESS_BYTE_COUNT	738238
+SHUFFLE	COPY_MAP_DATA	68871000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5066240
+SHUFFLE	COMPRESS_BYTE_COUNT	743220
+SHUFFLE	COPY_MAP_DATA	113228000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5046044
+SHUFFLE	COMPRESS_BYTE_COUNT	740066
+SHUFFLE	COPY_MAP_DATA	44195000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5054714
+SHUFFLE	COMPRESS_BYTE_COUNT	741726
+SHUFFLE	COPY_MAP_DATA	44574000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5040434
+SHUFFLE	COMPRESS_BYTE_COUNT	739340
+SHUFFLE	COPY_MAP_DATA	268768000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5051756
+SHUFFLE	COMPRESS_BYTE_COUNT	741146
+SHUFFLE	COPY_MAP_DATA	87573000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5092658
+SHUFFLE	COMPRESS_BYTE_COUNT	746658
+SHUFFLE	COPY_MAP_DATA	73910000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5050022
+SHUFFLE	COMPRESS_BYTE_COUNT	740431
+SHUFFLE	COPY_MAP_DATA	47042000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5063078
+SHUFFLE	COMPRESS_BYTE_COUNT	735568
+SHUFFLE	COPY_MAP_DATA	232500000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5051144
+SHUFFLE	COMPRESS_BYTE_COUNT	740807
+SHUFFLE	COPY_MAP_DATA	47381000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5073788
+SHUFFLE	COMPRESS_BYTE_COUNT	744492
+SHUFFLE	COPY_MAP_DATA	45623000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5043800
+SHUFFLE	COMPRESS_BYTE_COUNT	739564
+SHUFFLE	COPY_MAP_DATA	45461000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5034416
+SHUFFLE	COMPRESS_BYTE_COUNT	737874
+SHUFFLE	COPY_MAP_DATA	351593000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5009120
+SHUFFLE	COMPRESS_BYTE_COUNT	734997
+SHUFFLE	COPY_MAP_DATA	158059000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5015138
+SHUFFLE	COMPRESS_BYTE_COUNT	735381
+SHUFFLE	COPY_MAP_DATA	63206000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5060324
+SHUFFLE	COMPRESS_BYTE_COUNT	742132
+SHUFFLE	COPY_MAP_DATA	86508000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5041352
+SHUFFLE	COMPRESS_BYTE_COUNT	738833
+SHUFFLE	COPY_MAP_DATA	212439000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1181978
+SHUFFLE	COMPRESS_BYTE_COUNT	171571
+SHUFFLE	COPY_MAP_DATA	69879000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5017178
+SHUFFLE	COMPRESS_BYTE_COUNT	735398
+SHUFFLE	COPY_MAP_DATA	44408000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5024114
+SHUFFLE	COMPRESS_BYTE_COUNT	736877
+SHUFFLE	COPY_MAP_DATA	46500000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4999328
+SHUFFLE	COMPRESS_BYTE_COUNT	733045
+SHUFFLE	COPY_MAP_DATA	47025000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1178612
+SHUFFLE	COMPRESS_BYTE_COUNT	171086
+SHUFFLE	COPY_MAP_DATA	13273000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5064404
+SHUFFLE	COMPRESS_BYTE_COUNT	742896
+SHUFFLE	COPY_MAP_DATA	5213799000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1194320
+SHUFFLE	COMPRESS_BYTE_COUNT	173137
+SHUFFLE	COPY_MAP_DATA	92317000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5067260
+SHUFFLE	COMPRESS_BYTE_COUNT	743475
+SHUFFLE	COPY_MAP_DATA	69013000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5068994
+SHUFFLE	COMPRESS_BYTE_COUNT	743568
+SHUFFLE	COPY_MAP_DATA	63088000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5059916
+SHUFFLE	COMPRESS_BYTE_COUNT	742120
+SHUFFLE	COPY_MAP_DATA	81135000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5095412
+SHUFFLE	COMPRESS_BYTE_COUNT	747457
+SHUFFLE	COPY_MAP_DATA	46293000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5045942
+SHUFFLE	COMPRESS_BYTE_COUNT	740612
+SHUFFLE	COPY_MAP_DATA	61390000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5061752
+SHUFFLE	COMPRESS_BYTE_COUNT	742225
+SHUFFLE	COPY_MAP_DATA	60726000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5058896
+SHUFFLE	COMPRESS_BYTE_COUNT	741647
+SHUFFLE	COPY_MAP_DATA	66436000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5091128
+SHUFFLE	COMPRESS_BYTE_COUNT	746783
+SHUFFLE	COPY_MAP_DATA	148404000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1185752
+SHUFFLE	COMPRESS_BYTE_COUNT	171985
+SHUFFLE	COPY_MAP_DATA	106821000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5068076
+SHUFFLE	COMPRESS_BYTE_COUNT	743297
+SHUFFLE	COPY_MAP_DATA	1805201000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5035232
+SHUFFLE	COMPRESS_BYTE_COUNT	738322
+SHUFFLE	COPY_MAP_DATA	510962000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1200440
+SHUFFLE	COMPRESS_BYTE_COUNT	174140
+SHUFFLE	COPY_MAP_DATA	45977000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5002490
+SHUFFLE	COMPRESS_BYTE_COUNT	733531
+SHUFFLE	COPY_MAP_DATA	83132000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5083784
+SHUFFLE	COMPRESS_BYTE_COUNT	745260
+SHUFFLE	COPY_MAP_DATA	64927000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5048594
+SHUFFLE	COMPRESS_BYTE_COUNT	740647
+SHUFFLE	COPY_MAP_DATA	46572000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5015648
+SHUFFLE	COMPRESS_BYTE_COUNT	735334
+SHUFFLE	COPY_MAP_DATA	84613000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5086538
+SHUFFLE	COMPRESS_BYTE_COUNT	746038
+SHUFFLE	COPY_MAP_DATA	849575000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4994126
+SHUFFLE	COMPRESS_BYTE_COUNT	732121
+SHUFFLE	COPY_MAP_DATA	3145389000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1180550
+SHUFFLE	COMPRESS_BYTE_COUNT	171453
+SHUFFLE	COPY_MAP_DATA	11838000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5072666
+SHUFFLE	COMPRESS_BYTE_COUNT	744070
+SHUFFLE	COPY_MAP_DATA	213189000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5024522
+SHUFFLE	COMPRESS_BYTE_COUNT	736879
+SHUFFLE	COPY_MAP_DATA	124775000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5052062
+SHUFFLE	COMPRESS_BYTE_COUNT	740741
+SHUFFLE	COPY_MAP_DATA	7961013000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5062058
+SHUFFLE	COMPRESS_BYTE_COUNT	742428
+SHUFFLE	COPY_MAP_DATA	45477000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1195952
+SHUFFLE	COMPRESS_BYTE_COUNT	173614
+SHUFFLE	COPY_MAP_DATA	2990260000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5054408
+SHUFFLE	COMPRESS_BYTE_COUNT	741334
+SHUFFLE	COPY_MAP_DATA	49370000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5068790
+SHUFFLE	COMPRESS_BYTE_COUNT	743713
+SHUFFLE	COPY_MAP_DATA	186405000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1183406
+SHUFFLE	COMPRESS_BYTE_COUNT	171672
+SHUFFLE	COPY_MAP_DATA	12424000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5045126
+SHUFFLE	COMPRESS_BYTE_COUNT	739906
+SHUFFLE	COPY_MAP_DATA	51148000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1207886
+SHUFFLE	COMPRESS_BYTE_COUNT	175327
+SHUFFLE	COPY_MAP_DATA	2956208000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5060324
+SHUFFLE	COMPRESS_BYTE_COUNT	742201
+SHUFFLE	COPY_MAP_DATA	7332644000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5053388
+SHUFFLE	COMPRESS_BYTE_COUNT	741254
+SHUFFLE	COPY_MAP_DATA	47872000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5065118
+SHUFFLE	COMPRESS_BYTE_COUNT	742581
+SHUFFLE	COPY_MAP_DATA	56327000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1202684
+SHUFFLE	COMPRESS_BYTE_COUNT	174529
+SHUFFLE	COPY_MAP_DATA	18934000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5001368
+SHUFFLE	COMPRESS_BYTE_COUNT	733166
+SHUFFLE	COPY_MAP_DATA	1978337000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5040536
+SHUFFLE	COMPRESS_BYTE_COUNT	739384
+SHUFFLE	COPY_MAP_DATA	113088000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5052980
+SHUFFLE	COMPRESS_BYTE_COUNT	740969
+SHUFFLE	COPY_MAP_DATA	45945000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1201460
+SHUFFLE	COMPRESS_BYTE_COUNT	174353
+SHUFFLE	COPY_MAP_DATA	91925000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5064812
+SHUFFLE	COMPRESS_BYTE_COUNT	742404
+SHUFFLE	COPY_MAP_DATA	10173438000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1170860
+SHUFFLE	COMPRESS_BYTE_COUNT	169981
+SHUFFLE	COPY_MAP_DATA	13101000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5039516
+SHUFFLE	COMPRESS_BYTE_COUNT	739284
+SHUFFLE	COPY_MAP_DATA	156178000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5032478
+SHUFFLE	COMPRESS_BYTE_COUNT	738519
+SHUFFLE	COPY_MAP_DATA	45611000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1187384
+SHUFFLE	COMPRESS_BYTE_COUNT	172322
+SHUFFLE	COPY_MAP_DATA	13922000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5031968
+SHUFFLE	COMPRESS_BYTE_COUNT	737674
+SHUFFLE	COPY_MAP_DATA	46725000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1190342
+SHUFFLE	COMPRESS_BYTE_COUNT	172705
+SHUFFLE	COPY_MAP_DATA	129226000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1194626
+SHUFFLE	COMPRESS_BYTE_COUNT	173309
+SHUFFLE	COPY_MAP_DATA	100262000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1205132
+SHUFFLE	COMPRESS_BYTE_COUNT	174929
+SHUFFLE	COPY_MAP_DATA	26415000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1182998
+SHUFFLE	COMPRESS_BYTE_COUNT	171578
+SHUFFLE	COPY_MAP_DATA	13991000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4973828
+SHUFFLE	COMPRESS_BYTE_COUNT	729891
+SHUFFLE	COPY_MAP_DATA	51775000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1181672
+SHUFFLE	COMPRESS_BYTE_COUNT	171606
+SHUFFLE	COPY_MAP_DATA	12407000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1174940
+SHUFFLE	COMPRESS_BYTE_COUNT	170509
+SHUFFLE	COPY_MAP_DATA	106595000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5070422
+SHUFFLE	COMPRESS_BYTE_COUNT	743763
+SHUFFLE	COPY_MAP_DATA	63510000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1171880
+SHUFFLE	COMPRESS_BYTE_COUNT	170254
+SHUFFLE	COPY_MAP_DATA	41284000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1176470
+SHUFFLE	COMPRESS_BYTE_COUNT	170856
+SHUFFLE	COPY_MAP_DATA	22690000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5026970
+SHUFFLE	COMPRESS_BYTE_COUNT	737360
+SHUFFLE	COPY_MAP_DATA	47984000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5066138
+SHUFFLE	COMPRESS_BYTE_COUNT	742780
+SHUFFLE	COPY_MAP_DATA	46126000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1191056
+SHUFFLE	COMPRESS_BYTE_COUNT	172823
+SHUFFLE	COPY_MAP_DATA	116548000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5031866
+SHUFFLE	COMPRESS_BYTE_COUNT	738549
+SHUFFLE	COPY_MAP_DATA	50131000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1180448
+SHUFFLE	COMPRESS_BYTE_COUNT	171268
+SHUFFLE	COPY_MAP_DATA	8409895000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5054000
+SHUFFLE	COMPRESS_BYTE_COUNT	741149
+SHUFFLE	COPY_MAP_DATA	267487000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5056040
+SHUFFLE	COMPRESS_BYTE_COUNT	741495
+SHUFFLE	COPY_MAP_DATA	46619000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5031662
+SHUFFLE	COMPRESS_BYTE_COUNT	737808
+SHUFFLE	COPY_MAP_DATA	51267000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1166882
+SHUFFLE	COMPRESS_BYTE_COUNT	169486
+SHUFFLE	COPY_MAP_DATA	86978000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5076440
+SHUFFLE	COMPRESS_BYTE_COUNT	744477
+SHUFFLE	COPY_MAP_DATA	207194000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1196462
+SHUFFLE	COMPRESS_BYTE_COUNT	173699
+SHUFFLE	COPY_MAP_DATA	14076000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1188710
+SHUFFLE	COMPRESS_BYTE_COUNT	172461
+SHUFFLE	COPY_MAP_DATA	15446000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1180754
+SHUFFLE	COMPRESS_BYTE_COUNT	171351
+SHUFFLE	COPY_MAP_DATA	24409000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1194728
+SHUFFLE	COMPRESS_BYTE_COUNT	173458
+SHUFFLE	COPY_MAP_DATA	13650000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1196972
+SHUFFLE	COMPRESS_BYTE_COUNT	173754
+SHUFFLE	COPY_MAP_DATA	113189000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1201664
+SHUFFLE	COMPRESS_BYTE_COUNT	174398
+SHUFFLE	COPY_MAP_DATA	33614000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1189934
+SHUFFLE	COMPRESS_BYTE_COUNT	172735
+SHUFFLE	COPY_MAP_DATA	35348000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1199012
+SHUFFLE	COMPRESS_BYTE_COUNT	173901
+SHUFFLE	COPY_MAP_DATA	32029000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5034008
+SHUFFLE	COMPRESS_BYTE_COUNT	738093
+SHUFFLE	COPY_MAP_DATA	88136000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1200950
+SHUFFLE	COMPRESS_BYTE_COUNT	174233
+SHUFFLE	COPY_MAP_DATA	147463000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1175654
+SHUFFLE	COMPRESS_BYTE_COUNT	170590
+SHUFFLE	COPY_MAP_DATA	260164000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1187180
+SHUFFLE	COMPRESS_BYTE_COUNT	172282
+SHUFFLE	COPY_MAP_DATA	12834000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1180856
+SHUFFLE	COMPRESS_BYTE_COUNT	171260
+SHUFFLE	COPY_MAP_DATA	10610000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1182998
+SHUFFLE	COMPRESS_BYTE_COUNT	171618
+SHUFFLE	COPY_MAP_DATA	3046114834
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5036048
+SHUFFLE	COMPRESS_BYTE_COUNT	738701
+SHUFFLE	COPY_MAP_DATA	63297000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5056346
+SHUFFLE	COMPRESS_BYTE_COUNT	741784
+SHUFFLE	COPY_MAP_DATA	46846000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1184732
+SHUFFLE	COMPRESS_BYTE_COUNT	171861
+SHUFFLE	COPY_MAP_DATA	19136000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1182998
+SHUFFLE	COMPRESS_BYTE_COUNT	171612
+SHUFFLE	COPY_MAP_DATA	4096780000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5036354
+SHUFFLE	COMPRESS_BYTE_COUNT	739062
+SHUFFLE	COPY_MAP_DATA	3105991000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1194728
+SHUFFLE	COMPRESS_BYTE_COUNT	173446
+SHUFFLE	COPY_MAP_DATA	13518000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1182182
+SHUFFLE	COMPRESS_BYTE_COUNT	171489
+SHUFFLE	COPY_MAP_DATA	2705634000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1194626
+SHUFFLE	COMPRESS_BYTE_COUNT	173442
+SHUFFLE	COPY_MAP_DATA	97793000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1169738
+SHUFFLE	COMPRESS_BYTE_COUNT	169828
+SHUFFLE	COPY_MAP_DATA	13645000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1188914
+SHUFFLE	COMPRESS_BYTE_COUNT	172533
+SHUFFLE	COPY_MAP_DATA	12666000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1179428
+SHUFFLE	COMPRESS_BYTE_COUNT	171169
+SHUFFLE	COPY_MAP_DATA	12355000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1198196
+SHUFFLE	COMPRESS_BYTE_COUNT	173825
+SHUFFLE	COPY_MAP_DATA	12817000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1204010
+SHUFFLE	COMPRESS_BYTE_COUNT	174647
+SHUFFLE	COPY_MAP_DATA	112793000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1199726
+SHUFFLE	COMPRESS_BYTE_COUNT	174143
+SHUFFLE	COPY_MAP_DATA	52747000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1197380
+SHUFFLE	COMPRESS_BYTE_COUNT	173858
+SHUFFLE	COPY_MAP_DATA	345094000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5062670
+SHUFFLE	COMPRESS_BYTE_COUNT	742453
+SHUFFLE	COPY_MAP_DATA	3277545000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1198298
+SHUFFLE	COMPRESS_BYTE_COUNT	173894
+SHUFFLE	COPY_MAP_DATA	37958000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5027582
+SHUFFLE	COMPRESS_BYTE_COUNT	737791
+SHUFFLE	COPY_MAP_DATA	45519000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1192994
+SHUFFLE	COMPRESS_BYTE_COUNT	173090
+SHUFFLE	COPY_MAP_DATA	127291000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5069912
+SHUFFLE	COMPRESS_BYTE_COUNT	743458
+SHUFFLE	COPY_MAP_DATA	11768518000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1189832
+SHUFFLE	COMPRESS_BYTE_COUNT	172666
+SHUFFLE	COPY_MAP_DATA	12638000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1191056
+SHUFFLE	COMPRESS_BYTE_COUNT	172761
+SHUFFLE	COPY_MAP_DATA	72759000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5056754
+SHUFFLE	COMPRESS_BYTE_COUNT	741612
+SHUFFLE	COPY_MAP_DATA	167367000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5031968
+SHUFFLE	COMPRESS_BYTE_COUNT	738025
+SHUFFLE	COPY_MAP_DATA	46923000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1176776
+SHUFFLE	COMPRESS_BYTE_COUNT	170781
+SHUFFLE	COPY_MAP_DATA	12061000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1174124
+SHUFFLE	COMPRESS_BYTE_COUNT	170503
+SHUFFLE	COPY_MAP_DATA	219932000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1192892
+SHUFFLE	COMPRESS_BYTE_COUNT	173154
+SHUFFLE	COPY_MAP_DATA	48726000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1184630
+SHUFFLE	COMPRESS_BYTE_COUNT	171800
+SHUFFLE	COPY_MAP_DATA	31457000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1193606
+SHUFFLE	COMPRESS_BYTE_COUNT	173144
+SHUFFLE	COPY_MAP_DATA	31315000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1171370
+SHUFFLE	COMPRESS_BYTE_COUNT	170065
+SHUFFLE	COPY_MAP_DATA	30928000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1176776
+SHUFFLE	COMPRESS_BYTE_COUNT	170777
+SHUFFLE	COPY_MAP_DATA	679134000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1183814
+SHUFFLE	COMPRESS_BYTE_COUNT	171855
+SHUFFLE	COPY_MAP_DATA	135276000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1202684
+SHUFFLE	COMPRESS_BYTE_COUNT	174473
+SHUFFLE	COPY_MAP_DATA	15029000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1175756
+SHUFFLE	COMPRESS_BYTE_COUNT	170462
+SHUFFLE	COPY_MAP_DATA	228434000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1189322
+SHUFFLE	COMPRESS_BYTE_COUNT	172489
+SHUFFLE	COPY_MAP_DATA	13077000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1197890
+SHUFFLE	COMPRESS_BYTE_COUNT	173711
+SHUFFLE	COPY_MAP_DATA	26274000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1181060
+SHUFFLE	COMPRESS_BYTE_COUNT	171385
+SHUFFLE	COPY_MAP_DATA	50084000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5035538
+SHUFFLE	COMPRESS_BYTE_COUNT	738291
+SHUFFLE	COPY_MAP_DATA	66960000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1192688
+SHUFFLE	COMPRESS_BYTE_COUNT	173091
+SHUFFLE	COPY_MAP_DATA	191552000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1199012
+SHUFFLE	COMPRESS_BYTE_COUNT	173838
+SHUFFLE	COPY_MAP_DATA	16255000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1188098
+SHUFFLE	COMPRESS_BYTE_COUNT	172452
+SHUFFLE	COPY_MAP_DATA	627589000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1194830
+SHUFFLE	COMPRESS_BYTE_COUNT	173284
+SHUFFLE	COPY_MAP_DATA	72483000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1172492
+SHUFFLE	COMPRESS_BYTE_COUNT	170213
+SHUFFLE	COPY_MAP_DATA	33694000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1201664
+SHUFFLE	COMPRESS_BYTE_COUNT	174402
+SHUFFLE	COPY_MAP_DATA	313215000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1205234
+SHUFFLE	COMPRESS_BYTE_COUNT	174875
+SHUFFLE	COPY_MAP_DATA	13600000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1194830
+SHUFFLE	COMPRESS_BYTE_COUNT	173537
+SHUFFLE	COPY_MAP_DATA	18998000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1198604
+SHUFFLE	COMPRESS_BYTE_COUNT	173914
+SHUFFLE	COPY_MAP_DATA	12343000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1193708
+SHUFFLE	COMPRESS_BYTE_COUNT	173231
+SHUFFLE	COPY_MAP_DATA	12912000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1193912
+SHUFFLE	COMPRESS_BYTE_COUNT	173361
+SHUFFLE	COPY_MAP_DATA	23214000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1201562
+SHUFFLE	COMPRESS_BYTE_COUNT	174279
+SHUFFLE	COPY_MAP_DATA	24296000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1200338
+SHUFFLE	COMPRESS_BYTE_COUNT	174277
+SHUFFLE	COPY_MAP_DATA	49322000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1165352
+SHUFFLE	COMPRESS_BYTE_COUNT	169011
+SHUFFLE	COPY_MAP_DATA	15843000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1171268
+SHUFFLE	COMPRESS_BYTE_COUNT	170033
+SHUFFLE	COPY_MAP_DATA	12355000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1201460
+SHUFFLE	COMPRESS_BYTE_COUNT	174473
+SHUFFLE	COPY_MAP_DATA	15201000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1197992
+SHUFFLE	COMPRESS_BYTE_COUNT	173901
+SHUFFLE	COPY_MAP_DATA	13040000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1188608
+SHUFFLE	COMPRESS_BYTE_COUNT	172391
+SHUFFLE	COPY_MAP_DATA	13357000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1186160
+SHUFFLE	COMPRESS_BYTE_COUNT	172075
+SHUFFLE	COPY_MAP_DATA	22976000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1173920
+SHUFFLE	COMPRESS_BYTE_COUNT	170358
+SHUFFLE	COPY_MAP_DATA	12348000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1174838
+SHUFFLE	COMPRESS_BYTE_COUNT	170496
+SHUFFLE	COPY_MAP_DATA	11871000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1176470
+SHUFFLE	COMPRESS_BYTE_COUNT	170785
+SHUFFLE	COPY_MAP_DATA	11147000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1179224
+SHUFFLE	COMPRESS_BYTE_COUNT	170989
+SHUFFLE	COPY_MAP_DATA	266585000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1175246
+SHUFFLE	COMPRESS_BYTE_COUNT	170613
+SHUFFLE	COPY_MAP_DATA	13432000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1189220
+SHUFFLE	COMPRESS_BYTE_COUNT	172668
+SHUFFLE	COPY_MAP_DATA	11994000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1183100
+SHUFFLE	COMPRESS_BYTE_COUNT	171763
+SHUFFLE	COPY_MAP_DATA	119892000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1176062
+SHUFFLE	COMPRESS_BYTE_COUNT	170726
+SHUFFLE	COPY_MAP_DATA	26041000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1181468
+SHUFFLE	COMPRESS_BYTE_COUNT	171444
+SHUFFLE	COPY_MAP_DATA	14959000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1177796
+SHUFFLE	COMPRESS_BYTE_COUNT	170928
+SHUFFLE	COPY_MAP_DATA	43372000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1168922
+SHUFFLE	COMPRESS_BYTE_COUNT	169654
+SHUFFLE	COPY_MAP_DATA	13902000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1182590
+SHUFFLE	COMPRESS_BYTE_COUNT	171598
+SHUFFLE	COPY_MAP_DATA	13558000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1193402
+SHUFFLE	COMPRESS_BYTE_COUNT	173125
+SHUFFLE	COPY_MAP_DATA	12895000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1195034
+SHUFFLE	COMPRESS_BYTE_COUNT	173228
+SHUFFLE	COPY_MAP_DATA	16801000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1181672
+SHUFFLE	COMPRESS_BYTE_COUNT	171437
+SHUFFLE	COPY_MAP_DATA	14479000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	277326744604
+MERGE	READ_WRITE	266529639604
+MERGE	READ_WRITE_COUNT	8
+MERGE	COMBINE	0
+MERGE	WRITE	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	1409377000
+SORT	READ_WRITE	1305342000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	199946152
+REDUCE	SETUP	340000
+REDUCE	SETUP_MEM	199946152
+REDUCE	CLEANUP	48000
+REDUCE	CLEANUP_MEM	183171080
+REDUCE	TOTAL_RUN	272121523265
+REDUCE	READ	50035479000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	144115662265
+REDUCE	WRITE	87134397783
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	110614320
+REDUCE	VALUE_BYTE_COUNT	973406016
+REDUCE	REDUCE_MEM	183171080
+REDUCE	WRITE	4962000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	813839243307
@@ -0,0 +1,1229 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5005550
+SHUFFLE	COMPRESS_BYTE_COUNT	733949
+SHUFFLE	COPY_MAP_DATA	207206000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5051654
+SHUFFLE	COMPRESS_BYTE_COUNT	740456
+SHUFFLE	COPY_MAP_DATA	71716000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5012996
+SHUFFLE	COMPRESS_BYTE_COUNT	734620
+SHUFFLE	COPY_MAP_DATA	77799000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5046350
+SHUFFLE	COMPRESS_BYTE_COUNT	740286
+SHUFFLE	COPY_MAP_DATA	84277000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5024726
+SHUFFLE	COMPRESS_BYTE_COUNT	736952
+SHUFFLE	COPY_MAP_DATA	97073000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5033294
+SHUFFLE	COMPRESS_BYTE_COUNT	738435
+SHUFFLE	COPY_MAP_DATA	96607000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5025542
+SHUFFLE	COMPRESS_BYTE_COUNT	737418
+SHUFFLE	COPY_MAP_DATA	71953000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5007386
+SHUFFLE	COMPRESS_BYTE_COUNT	734409
+SHUFFLE	COPY_MAP_DATA	48034000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4999532
+SHUFFLE	COMPRESS_BYTE_COUNT	733219
+SHUFFLE	COPY_MAP_DATA	106940000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5079806
+SHUFFLE	COMPRESS_BYTE_COUNT	744827
+SHUFFLE	COPY_MAP_DATA	85552000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5017994
+SHUFFLE	COMPRESS_BYTE_COUNT	736219
+SHUFFLE	COPY_MAP_DATA	47753000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5009528
+SHUFFLE	COMPRESS_BYTE_COUNT	734948
+SHUFFLE	COPY_MAP_DATA	85157000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5003306
+SHUFFLE	COMPRESS_BYTE_COUNT	734041
+SHUFFLE	COPY_MAP_DATA	53414000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5035232
+SHUFFLE	COMPRESS_BYTE_COUNT	738856
+SHUFFLE	COPY_MAP_DATA	73710000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5043086
+SHUFFLE	COMPRESS_BYTE_COUNT	739517
+SHUFFLE	COPY_MAP_DATA	56192000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4976174
+SHUFFLE	COMPRESS_BYTE_COUNT	729805
+SHUFFLE	COPY_MAP_DATA	220247000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4999634
+SHUFFLE	COMPRESS_BYTE_COUNT	733501
+SHUFFLE	COPY_MAP_DATA	61942000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5054102
+SHUFFLE	COMPRESS_BYTE_COUNT	740911
+SHUFFLE	COPY_MAP_DATA	47628000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5018810
+SHUFFLE	COMPRESS_BYTE_COUNT	736123
+SHUFFLE	COPY_MAP_DATA	278686000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4983416
+SHUFFLE	COMPRESS_BYTE_COUNT	730758
+SHUFFLE	COPY_MAP_DATA	72586000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4990250
+SHUFFLE	COMPRESS_BYTE_COUNT	732193
+SHUFFLE	COPY_MAP_DATA	62090000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5052572
+SHUFFLE	COMPRESS_BYTE_COUNT	740942
+SHUFFLE	COPY_MAP_DATA	64135000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5017892
+SHUFFLE	COMPRESS_BYTE_COUNT	736202
+SHUFFLE	COPY_MAP_DATA	64260000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4981274
+SHUFFLE	COMPRESS_BYTE_COUNT	730640
+SHUFFLE	COPY_MAP_DATA	1568945000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5027378
+SHUFFLE	COMPRESS_BYTE_COUNT	737541
+SHUFFLE	COPY_MAP_DATA	47155000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5044310
+SHUFFLE	COMPRESS_BYTE_COUNT	739561
+SHUFFLE	COPY_MAP_DATA	47000000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5034620
+SHUFFLE	COMPRESS_BYTE_COUNT	738315
+SHUFFLE	COPY_MAP_DATA	519425000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5003408
+SHUFFLE	COMPRESS_BYTE_COUNT	733780
+SHUFFLE	COPY_MAP_DATA	107933000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5032784
+SHUFFLE	COMPRESS_BYTE_COUNT	737866
+SHUFFLE	COPY_MAP_DATA	164093000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5050124
+SHUFFLE	COMPRESS_BYTE_COUNT	740926
+SHUFFLE	COPY_MAP_DATA	1403039000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5023910
+SHUFFLE	COMPRESS_BYTE_COUNT	736977
+SHUFFLE	COPY_MAP_DATA	194148000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4998002
+SHUFFLE	COMPRESS_BYTE_COUNT	733077
+SHUFFLE	COPY_MAP_DATA	117899000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5030642
+SHUFFLE	COMPRESS_BYTE_COUNT	737836
+SHUFFLE	COPY_MAP_DATA	92130000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5005754
+SHUFFLE	COMPRESS_BYTE_COUNT	734136
+SHUFFLE	COPY_MAP_DATA	234589000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5034722
+SHUFFLE	COMPRESS_BYTE_COUNT	738866
+SHUFFLE	COPY_MAP_DATA	125991000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5041148
+SHUFFLE	COMPRESS_BYTE_COUNT	739267
+SHUFFLE	COPY_MAP_DATA	129261000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4995554
+SHUFFLE	COMPRESS_BYTE_COUNT	733152
+SHUFFLE	COPY_MAP_DATA	993243000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5008610
+SHUFFLE	COMPRESS_BYTE_COUNT	734377
+SHUFFLE	COPY_MAP_DATA	54503000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5038496
+SHUFFLE	COMPRESS_BYTE_COUNT	739260
+SHUFFLE	COPY_MAP_DATA	48127000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5003102
+SHUFFLE	COMPRESS_BYTE_COUNT	734243
+SHUFFLE	COPY_MAP_DATA	73173000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5035334
+SHUFFLE	COMPRESS_BYTE_COUNT	738800
+SHUFFLE	COPY_MAP_DATA	130784000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5003612
+SHUFFLE	COMPRESS_BYTE_COUNT	734077
+SHUFFLE	COPY_MAP_DATA	157087000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5004224
+SHUFFLE	COMPRESS_BYTE_COUNT	734044
+SHUFFLE	COPY_MAP_DATA	45297000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5037170
+SHUFFLE	COMPRESS_BYTE_COUNT	738635
+SHUFFLE	COPY_MAP_DATA	153942000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4993310
+SHUFFLE	COMPRESS_BYTE_COUNT	732541
+SHUFFLE	COPY_MAP_DATA	58544000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5000858
+SHUFFLE	COMPRESS_BYTE_COUNT	733417
+SHUFFLE	COPY_MAP_DATA	44353000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5068790
+SHUFFLE	COMPRESS_BYTE_COUNT	743634
+SHUFFLE	COPY_MAP_DATA	57360000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5032274
+SHUFFLE	COMPRESS_BYTE_COUNT	738169
+SHUFFLE	COPY_MAP_DATA	46301000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5020850
+SHUFFLE	COMPRESS_BYTE_COUNT	736254
+SHUFFLE	COPY_MAP_DATA	256530000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5025134
+SHUFFLE	COMPRESS_BYTE_COUNT	737035
+SHUFFLE	COPY_MAP_DATA	52121000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5035946
+SHUFFLE	COMPRESS_BYTE_COUNT	738472
+SHUFFLE	COPY_MAP_DATA	56573000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5051654
+SHUFFLE	COMPRESS_BYTE_COUNT	741348
+SHUFFLE	COPY_MAP_DATA	48925000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5033396
+SHUFFLE	COMPRESS_BYTE_COUNT	738037
+SHUFFLE	COPY_MAP_DATA	1429886000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5050226
+SHUFFLE	COMPRESS_BYTE_COUNT	740486
+SHUFFLE	COPY_MAP_DATA	352096000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5004938
+SHUFFLE	COMPRESS_BYTE_COUNT	734568
+SHUFFLE	COPY_MAP_DATA	4227653000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5053694
+SHUFFLE	COMPRESS_BYTE_COUNT	741043
+SHUFFLE	COPY_MAP_DATA	42935000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5042372
+SHUFFLE	COMPRESS_BYTE_COUNT	739602
+SHUFFLE	COPY_MAP_DATA	43960000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5009222
+SHUFFLE	COMPRESS_BYTE_COUNT	734410
+SHUFFLE	COPY_MAP_DATA	62375000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4998512
+SHUFFLE	COMPRESS_BYTE_COUNT	728746
+SHUFFLE	COPY_MAP_DATA	64506000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5051756
+SHUFFLE	COMPRESS_BYTE_COUNT	741263
+SHUFFLE	COPY_MAP_DATA	261436000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5019218
+SHUFFLE	COMPRESS_BYTE_COUNT	736402
+SHUFFLE	COPY_MAP_DATA	460149000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5041556
+SHUFFLE	COMPRESS_BYTE_COUNT	739665
+SHUFFLE	COPY_MAP_DATA	1566142000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4993616
+SHUFFLE	COMPRESS_BYTE_COUNT	732348
+SHUFFLE	COPY_MAP_DATA	1108752000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5038598
+SHUFFLE	COMPRESS_BYTE_COUNT	738245
+SHUFFLE	COPY_MAP_DATA	43589000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5032274
+SHUFFLE	COMPRESS_BYTE_COUNT	738600
+SHUFFLE	COPY_MAP_DATA	43523000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4996778
+SHUFFLE	COMPRESS_BYTE_COUNT	732549
+SHUFFLE	COPY_MAP_DATA	134990000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5036966
+SHUFFLE	COMPRESS_BYTE_COUNT	739121
+SHUFFLE	COPY_MAP_DATA	112736000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4997390
+SHUFFLE	COMPRESS_BYTE_COUNT	732846
+SHUFFLE	COPY_MAP_DATA	61767000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5069708
+SHUFFLE	COMPRESS_BYTE_COUNT	743613
+SHUFFLE	COPY_MAP_DATA	43190000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5033600
+SHUFFLE	COMPRESS_BYTE_COUNT	738336
+SHUFFLE	COPY_MAP_DATA	69820000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5037170
+SHUFFLE	COMPRESS_BYTE_COUNT	738388
+SHUFFLE	COPY_MAP_DATA	68267000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4994636
+SHUFFLE	COMPRESS_BYTE_COUNT	732804
+SHUFFLE	COPY_MAP_DATA	2027495000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5031152
+SHUFFLE	COMPRESS_BYTE_COUNT	737969
+SHUFFLE	COPY_MAP_DATA	1330986000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5027174
+SHUFFLE	COMPRESS_BYTE_COUNT	737496
+SHUFFLE	COPY_MAP_DATA	5216962000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5013098
+SHUFFLE	COMPRESS_BYTE_COUNT	735414
+SHUFFLE	COPY_MAP_DATA	219920000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5032478
+SHUFFLE	COMPRESS_BYTE_COUNT	737971
+SHUFFLE	COPY_MAP_DATA	2762524000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4978826
+SHUFFLE	COMPRESS_BYTE_COUNT	730204
+SHUFFLE	COPY_MAP_DATA	3419522000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5000552
+SHUFFLE	COMPRESS_BYTE_COUNT	733536
+SHUFFLE	COPY_MAP_DATA	55303000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5017688
+SHUFFLE	COMPRESS_BYTE_COUNT	735552
+SHUFFLE	COPY_MAP_DATA	131830000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5039516
+SHUFFLE	COMPRESS_BYTE_COUNT	739085
+SHUFFLE	COPY_MAP_DATA	95363000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5008202
+SHUFFLE	COMPRESS_BYTE_COUNT	734715
+SHUFFLE	COPY_MAP_DATA	248906000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4985762
+SHUFFLE	COMPRESS_BYTE_COUNT	731342
+SHUFFLE	COPY_MAP_DATA	7253786000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4987598
+SHUFFLE	COMPRESS_BYTE_COUNT	731811
+SHUFFLE	COPY_MAP_DATA	135686000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5012078
+SHUFFLE	COMPRESS_BYTE_COUNT	735165
+SHUFFLE	COPY_MAP_DATA	73365000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5051348
+SHUFFLE	COMPRESS_BYTE_COUNT	741080
+SHUFFLE	COPY_MAP_DATA	353409000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4977806
+SHUFFLE	COMPRESS_BYTE_COUNT	730158
+SHUFFLE	COPY_MAP_DATA	322701000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5035946
+SHUFFLE	COMPRESS_BYTE_COUNT	738451
+SHUFFLE	COPY_MAP_DATA	1312602000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5065526
+SHUFFLE	COMPRESS_BYTE_COUNT	742701
+SHUFFLE	COPY_MAP_DATA	46174000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4999532
+SHUFFLE	COMPRESS_BYTE_COUNT	733587
+SHUFFLE	COPY_MAP_DATA	2965707000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5021972
+SHUFFLE	COMPRESS_BYTE_COUNT	737001
+SHUFFLE	COPY_MAP_DATA	121301000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5039414
+SHUFFLE	COMPRESS_BYTE_COUNT	739029
+SHUFFLE	COPY_MAP_DATA	179069000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5014526
+SHUFFLE	COMPRESS_BYTE_COUNT	735394
+SHUFFLE	COPY_MAP_DATA	45123000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5024012
+SHUFFLE	COMPRESS_BYTE_COUNT	736799
+SHUFFLE	COPY_MAP_DATA	44480000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5053796
+SHUFFLE	COMPRESS_BYTE_COUNT	741634
+SHUFFLE	COPY_MAP_DATA	101478000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5054204
+SHUFFLE	COMPRESS_BYTE_COUNT	741257
+SHUFFLE	COPY_MAP_DATA	45995000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5034314
+SHUFFLE	COMPRESS_BYTE_COUNT	737977
+SHUFFLE	COPY_MAP_DATA	101565000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5009630
+SHUFFLE	COMPRESS_BYTE_COUNT	734917
+SHUFFLE	COPY_MAP_DATA	45482000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5002592
+SHUFFLE	COMPRESS_BYTE_COUNT	733436
+SHUFFLE	COPY_MAP_DATA	160013000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4973420
+SHUFFLE	COMPRESS_BYTE_COUNT	729415
+SHUFFLE	COPY_MAP_DATA	474298000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4985762
+SHUFFLE	COMPRESS_BYTE_COUNT	731065
+SHUFFLE	COPY_MAP_DATA	338357000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5046554
+SHUFFLE	COMPRESS_BYTE_COUNT	740485
+SHUFFLE	COPY_MAP_DATA	510101000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5027786
+SHUFFLE	COMPRESS_BYTE_COUNT	737801
+SHUFFLE	COPY_MAP_DATA	2330871000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5036762
+SHUFFLE	COMPRESS_BYTE_COUNT	738821
+SHUFFLE	COPY_MAP_DATA	52606000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5043494
+SHUFFLE	COMPRESS_BYTE_COUNT	739849
+SHUFFLE	COPY_MAP_DATA	224522000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5047268
+SHUFFLE	COMPRESS_BYTE_COUNT	740609
+SHUFFLE	COPY_MAP_DATA	594248000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5007692
+SHUFFLE	COMPRESS_BYTE_COUNT	734635
+SHUFFLE	COPY_MAP_DATA	186030000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5035334
+SHUFFLE	COMPRESS_BYTE_COUNT	738379
+SHUFFLE	COPY_MAP_DATA	64879000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5029622
+SHUFFLE	COMPRESS_BYTE_COUNT	737498
+SHUFFLE	COPY_MAP_DATA	46765000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4980152
+SHUFFLE	COMPRESS_BYTE_COUNT	730737
+SHUFFLE	COPY_MAP_DATA	46128000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5054510
+SHUFFLE	COMPRESS_BYTE_COUNT	741354
+SHUFFLE	COPY_MAP_DATA	173588000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5007182
+SHUFFLE	COMPRESS_BYTE_COUNT	734431
+SHUFFLE	COPY_MAP_DATA	44350000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5026052
+SHUFFLE	COMPRESS_BYTE_COUNT	736862
+SHUFFLE	COPY_MAP_DATA	84004000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5001572
+SHUFFLE	COMPRESS_BYTE_COUNT	733492
+SHUFFLE	COPY_MAP_DATA	120362000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5047982
+SHUFFLE	COMPRESS_BYTE_COUNT	740508
+SHUFFLE	COPY_MAP_DATA	63613000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5045432
+SHUFFLE	COMPRESS_BYTE_COUNT	739835
+SHUFFLE	COPY_MAP_DATA	451196000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5022890
+SHUFFLE	COMPRESS_BYTE_COUNT	737103
+SHUFFLE	COPY_MAP_DATA	44455000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5017382
+SHUFFLE	COMPRESS_BYTE_COUNT	736361
+SHUFFLE	COPY_MAP_DATA	58832000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5011568
+SHUFFLE	COMPRESS_BYTE_COUNT	734832
+SHUFFLE	COPY_MAP_DATA	49706000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5029724
+SHUFFLE	COMPRESS_BYTE_COUNT	737505
+SHUFFLE	COPY_MAP_DATA	57780000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5032580
+SHUFFLE	COMPRESS_BYTE_COUNT	738340
+SHUFFLE	COPY_MAP_DATA	819676000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5042678
+SHUFFLE	COMPRESS_BYTE_COUNT	739716
+SHUFFLE	COPY_MAP_DATA	45420000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5003102
+SHUFFLE	COMPRESS_BYTE_COUNT	733832
+SHUFFLE	COPY_MAP_DATA	65615000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5035436
+SHUFFLE	COMPRESS_BYTE_COUNT	738137
+SHUFFLE	COPY_MAP_DATA	79055000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5040944
+SHUFFLE	COMPRESS_BYTE_COUNT	739139
+SHUFFLE	COPY_MAP_DATA	45490000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5041862
+SHUFFLE	COMPRESS_BYTE_COUNT	739061
+SHUFFLE	COPY_MAP_DATA	1169168000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5003102
+SHUFFLE	COMPRESS_BYTE_COUNT	733666
+SHUFFLE	COPY_MAP_DATA	172043000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4980254
+SHUFFLE	COMPRESS_BYTE_COUNT	730972
+SHUFFLE	COPY_MAP_DATA	374449000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5003000
+SHUFFLE	COMPRESS_BYTE_COUNT	733807
+SHUFFLE	COPY_MAP_DATA	1955543000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5010650
+SHUFFLE	COMPRESS_BYTE_COUNT	735195
+SHUFFLE	COPY_MAP_DATA	105556000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5011058
+SHUFFLE	COMPRESS_BYTE_COUNT	735340
+SHUFFLE	COPY_MAP_DATA	292180000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4997288
+SHUFFLE	COMPRESS_BYTE_COUNT	732982
+SHUFFLE	COPY_MAP_DATA	42662000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5064506
+SHUFFLE	COMPRESS_BYTE_COUNT	742410
+SHUFFLE	COPY_MAP_DATA	47476000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4991882
+SHUFFLE	COMPRESS_BYTE_COUNT	732765
+SHUFFLE	COPY_MAP_DATA	74852000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4973012
+SHUFFLE	COMPRESS_BYTE_COUNT	729977
+SHUFFLE	COPY_MAP_DATA	48256000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5005346
+SHUFFLE	COMPRESS_BYTE_COUNT	733940
+SHUFFLE	COPY_MAP_DATA	1179580000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5001776
+SHUFFLE	COMPRESS_BYTE_COUNT	733319
+SHUFFLE	COPY_MAP_DATA	945068000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5008712
+SHUFFLE	COMPRESS_BYTE_COUNT	734486
+SHUFFLE	COPY_MAP_DATA	87196000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4997594
+SHUFFLE	COMPRESS_BYTE_COUNT	732547
+SHUFFLE	COPY_MAP_DATA	178979000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5044514
+SHUFFLE	COMPRESS_BYTE_COUNT	739986
+SHUFFLE	COPY_MAP_DATA	394999000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5038190
+SHUFFLE	COMPRESS_BYTE_COUNT	732049
+SHUFFLE	COPY_MAP_DATA	63911000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5027174
+SHUFFLE	COMPRESS_BYTE_COUNT	737069
+SHUFFLE	COPY_MAP_DATA	88482000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5026460
+SHUFFLE	COMPRESS_BYTE_COUNT	737022
+SHUFFLE	COPY_MAP_DATA	92650000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5010242
+SHUFFLE	COMPRESS_BYTE_COUNT	735083
+SHUFFLE	COPY_MAP_DATA	78581000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5001776
+SHUFFLE	COMPRESS_BYTE_COUNT	733870
+SHUFFLE	COPY_MAP_DATA	136835000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1204418
+SHUFFLE	COMPRESS_BYTE_COUNT	174742
+SHUFFLE	COPY_MAP_DATA	29632000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5013506
+SHUFFLE	COMPRESS_BYTE_COUNT	735198
+SHUFFLE	COPY_MAP_DATA	201067000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5007794
+SHUFFLE	COMPRESS_BYTE_COUNT	734402
+SHUFFLE	COPY_MAP_DATA	855858000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5044310
+SHUFFLE	COMPRESS_BYTE_COUNT	739978
+SHUFFLE	COPY_MAP_DATA	18602568000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1174328
+SHUFFLE	COMPRESS_BYTE_COUNT	170448
+SHUFFLE	COPY_MAP_DATA	14521000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5043086
+SHUFFLE	COMPRESS_BYTE_COUNT	739500
+SHUFFLE	COPY_MAP_DATA	59928000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5004836
+SHUFFLE	COMPRESS_BYTE_COUNT	734399
+SHUFFLE	COPY_MAP_DATA	101883000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5037884
+SHUFFLE	COMPRESS_BYTE_COUNT	739054
+SHUFFLE	COPY_MAP_DATA	56404000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5018606
+SHUFFLE	COMPRESS_BYTE_COUNT	736198
+SHUFFLE	COPY_MAP_DATA	85511000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5014526
+SHUFFLE	COMPRESS_BYTE_COUNT	735898
+SHUFFLE	COPY_MAP_DATA	135030000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1174736
+SHUFFLE	COMPRESS_BYTE_COUNT	170575
+SHUFFLE	COPY_MAP_DATA	73271000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5026562
+SHUFFLE	COMPRESS_BYTE_COUNT	737002
+SHUFFLE	COPY_MAP_DATA	44433000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5011364
+SHUFFLE	COMPRESS_BYTE_COUNT	734935
+SHUFFLE	COPY_MAP_DATA	67804000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5039006
+SHUFFLE	COMPRESS_BYTE_COUNT	739325
+SHUFFLE	COPY_MAP_DATA	49609000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5015342
+SHUFFLE	COMPRESS_BYTE_COUNT	735680
+SHUFFLE	COPY_MAP_DATA	89538000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1170248
+SHUFFLE	COMPRESS_BYTE_COUNT	169956
+SHUFFLE	COPY_MAP_DATA	64235000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5047880
+SHUFFLE	COMPRESS_BYTE_COUNT	740463
+SHUFFLE	COPY_MAP_DATA	131206000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5045738
+SHUFFLE	COMPRESS_BYTE_COUNT	739950
+SHUFFLE	COPY_MAP_DATA	45059000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1178510
+SHUFFLE	COMPRESS_BYTE_COUNT	171058
+SHUFFLE	COPY_MAP_DATA	97941000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5017382
+SHUFFLE	COMPRESS_BYTE_COUNT	735596
+SHUFFLE	COPY_MAP_DATA	492464000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5026664
+SHUFFLE	COMPRESS_BYTE_COUNT	736986
+SHUFFLE	COPY_MAP_DATA	56266000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5043596
+SHUFFLE	COMPRESS_BYTE_COUNT	739946
+SHUFFLE	COPY_MAP_DATA	47181000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5045126
+SHUFFLE	COMPRESS_BYTE_COUNT	739819
+SHUFFLE	COPY_MAP_DATA	653120000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5042678
+SHUFFLE	COMPRESS_BYTE_COUNT	739727
+SHUFFLE	COPY_MAP_DATA	63571000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5044412
+SHUFFLE	COMPRESS_BYTE_COUNT	740082
+SHUFFLE	COPY_MAP_DATA	503873000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1186160
+SHUFFLE	COMPRESS_BYTE_COUNT	172357
+SHUFFLE	COPY_MAP_DATA	22898000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5013812
+SHUFFLE	COMPRESS_BYTE_COUNT	735330
+SHUFFLE	COPY_MAP_DATA	4931154000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5011262
+SHUFFLE	COMPRESS_BYTE_COUNT	734942
+SHUFFLE	COPY_MAP_DATA	534376000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5022278
+SHUFFLE	COMPRESS_BYTE_COUNT	736486
+SHUFFLE	COPY_MAP_DATA	9464053000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1175960
+SHUFFLE	COMPRESS_BYTE_COUNT	170694
+SHUFFLE	COPY_MAP_DATA	4303046000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1180244
+SHUFFLE	COMPRESS_BYTE_COUNT	171361
+SHUFFLE	COPY_MAP_DATA	12754000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4977092
+SHUFFLE	COMPRESS_BYTE_COUNT	730246
+SHUFFLE	COPY_MAP_DATA	50515000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5015648
+SHUFFLE	COMPRESS_BYTE_COUNT	735620
+SHUFFLE	COPY_MAP_DATA	40759000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5006774
+SHUFFLE	COMPRESS_BYTE_COUNT	734559
+SHUFFLE	COPY_MAP_DATA	1443339000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5017280
+SHUFFLE	COMPRESS_BYTE_COUNT	735776
+SHUFFLE	COPY_MAP_DATA	8711925000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5046860
+SHUFFLE	COMPRESS_BYTE_COUNT	740464
+SHUFFLE	COPY_MAP_DATA	49808000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1173512
+SHUFFLE	COMPRESS_BYTE_COUNT	170350
+SHUFFLE	COPY_MAP_DATA	11949000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5026868
+SHUFFLE	COMPRESS_BYTE_COUNT	737335
+SHUFFLE	COPY_MAP_DATA	178811000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5049308
+SHUFFLE	COMPRESS_BYTE_COUNT	740081
+SHUFFLE	COPY_MAP_DATA	42456000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1198298
+SHUFFLE	COMPRESS_BYTE_COUNT	173864
+SHUFFLE	COPY_MAP_DATA	23553000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5007488
+SHUFFLE	COMPRESS_BYTE_COUNT	734376
+SHUFFLE	COPY_MAP_DATA	44101000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5044106
+SHUFFLE	COMPRESS_BYTE_COUNT	739971
+SHUFFLE	COPY_MAP_DATA	47752000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5060018
+SHUFFLE	COMPRESS_BYTE_COUNT	742122
+SHUFFLE	COPY_MAP_DATA	44619000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1183610
+SHUFFLE	COMPRESS_BYTE_COUNT	171793
+SHUFFLE	COPY_MAP_DATA	12073000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5010548
+SHUFFLE	COMPRESS_BYTE_COUNT	734681
+SHUFFLE	COPY_MAP_DATA	44063000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5030744
+SHUFFLE	COMPRESS_BYTE_COUNT	737670
+SHUFFLE	COPY_MAP_DATA	749294000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5065526
+SHUFFLE	COMPRESS_BYTE_COUNT	742692
+SHUFFLE	COPY_MAP_DATA	1070223000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1177898
+SHUFFLE	COMPRESS_BYTE_COUNT	170987
+SHUFFLE	COPY_MAP_DATA	1347754000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1182488
+SHUFFLE	COMPRESS_BYTE_COUNT	171622
+SHUFFLE	COPY_MAP_DATA	189776000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1179734
+SHUFFLE	COMPRESS_BYTE_COUNT	171307
+SHUFFLE	COPY_MAP_DATA	13080000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5062466
+SHUFFLE	COMPRESS_BYTE_COUNT	742155
+SHUFFLE	COPY_MAP_DATA	45896000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5007896
+SHUFFLE	COMPRESS_BYTE_COUNT	734663
+SHUFFLE	COPY_MAP_DATA	47212000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1181162
+SHUFFLE	COMPRESS_BYTE_COUNT	171428
+SHUFFLE	COPY_MAP_DATA	13823000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1171472
+SHUFFLE	COMPRESS_BYTE_COUNT	169946
+SHUFFLE	COPY_MAP_DATA	12568000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1176878
+SHUFFLE	COMPRESS_BYTE_COUNT	170765
+SHUFFLE	COPY_MAP_DATA	12367000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5072054
+SHUFFLE	COMPRESS_BYTE_COUNT	743989
+SHUFFLE	COPY_MAP_DATA	778808000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1183814
+SHUFFLE	COMPRESS_BYTE_COUNT	171770
+SHUFFLE	COPY_MAP_DATA	15084000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1172798
+SHUFFLE	COMPRESS_BYTE_COUNT	170368
+SHUFFLE	COPY_MAP_DATA	175613000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1176776
+SHUFFLE	COMPRESS_BYTE_COUNT	170832
+SHUFFLE	COPY_MAP_DATA	12504000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1178612
+SHUFFLE	COMPRESS_BYTE_COUNT	170997
+SHUFFLE	COPY_MAP_DATA	11262000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5054612
+SHUFFLE	COMPRESS_BYTE_COUNT	741511
+SHUFFLE	COPY_MAP_DATA	981408000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5025542
+SHUFFLE	COMPRESS_BYTE_COUNT	736867
+SHUFFLE	COPY_MAP_DATA	9819916000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5026052
+SHUFFLE	COMPRESS_BYTE_COUNT	737115
+SHUFFLE	COPY_MAP_DATA	98450000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1170554
+SHUFFLE	COMPRESS_BYTE_COUNT	169958
+SHUFFLE	COPY_MAP_DATA	20871000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5003510
+SHUFFLE	COMPRESS_BYTE_COUNT	733759
+SHUFFLE	COPY_MAP_DATA	50153000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4968830
+SHUFFLE	COMPRESS_BYTE_COUNT	729038
+SHUFFLE	COPY_MAP_DATA	572335000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1181570
+SHUFFLE	COMPRESS_BYTE_COUNT	171538
+SHUFFLE	COPY_MAP_DATA	13032000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1181876
+SHUFFLE	COMPRESS_BYTE_COUNT	171607
+SHUFFLE	COPY_MAP_DATA	75997000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1175960
+SHUFFLE	COMPRESS_BYTE_COUNT	170704
+SHUFFLE	COPY_MAP_DATA	12878000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1198706
+SHUFFLE	COMPRESS_BYTE_COUNT	173974
+SHUFFLE	COPY_MAP_DATA	113445000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1174838
+SHUFFLE	COMPRESS_BYTE_COUNT	170545
+SHUFFLE	COPY_MAP_DATA	12313000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5043902
+SHUFFLE	COMPRESS_BYTE_COUNT	739532
+SHUFFLE	COPY_MAP_DATA	2532066000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5032784
+SHUFFLE	COMPRESS_BYTE_COUNT	737896
+SHUFFLE	COPY_MAP_DATA	43885000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1198298
+SHUFFLE	COMPRESS_BYTE_COUNT	174145
+SHUFFLE	COPY_MAP_DATA	27609000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1170248
+SHUFFLE	COMPRESS_BYTE_COUNT	170030
+SHUFFLE	COPY_MAP_DATA	12920000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1162802
+SHUFFLE	COMPRESS_BYTE_COUNT	168778
+SHUFFLE	COPY_MAP_DATA	38063000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1196972
+SHUFFLE	COMPRESS_BYTE_COUNT	173755
+SHUFFLE	COPY_MAP_DATA	951689000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5027684
+SHUFFLE	COMPRESS_BYTE_COUNT	736899
+SHUFFLE	COPY_MAP_DATA	247225000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1191464
+SHUFFLE	COMPRESS_BYTE_COUNT	172821
+SHUFFLE	COPY_MAP_DATA	14637000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1181264
+SHUFFLE	COMPRESS_BYTE_COUNT	171674
+SHUFFLE	COPY_MAP_DATA	43631000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1156682
+SHUFFLE	COMPRESS_BYTE_COUNT	167915
+SHUFFLE	COPY_MAP_DATA	1023654000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1188506
+SHUFFLE	COMPRESS_BYTE_COUNT	172452
+SHUFFLE	COPY_MAP_DATA	55782000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1195442
+SHUFFLE	COMPRESS_BYTE_COUNT	173388
+SHUFFLE	COPY_MAP_DATA	20399000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1206458
+SHUFFLE	COMPRESS_BYTE_COUNT	175128
+SHUFFLE	COPY_MAP_DATA	1386097000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5026562
+SHUFFLE	COMPRESS_BYTE_COUNT	737490
+SHUFFLE	COPY_MAP_DATA	70425000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1186976
+SHUFFLE	COMPRESS_BYTE_COUNT	172365
+SHUFFLE	COPY_MAP_DATA	2920354000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5065526
+SHUFFLE	COMPRESS_BYTE_COUNT	743081
+SHUFFLE	COPY_MAP_DATA	63482000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5030642
+SHUFFLE	COMPRESS_BYTE_COUNT	738026
+SHUFFLE	COPY_MAP_DATA	270402000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1170860
+SHUFFLE	COMPRESS_BYTE_COUNT	169996
+SHUFFLE	COPY_MAP_DATA	351121000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1169432
+SHUFFLE	COMPRESS_BYTE_COUNT	169869
+SHUFFLE	COPY_MAP_DATA	12833000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1178918
+SHUFFLE	COMPRESS_BYTE_COUNT	171225
+SHUFFLE	COPY_MAP_DATA	14275000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1179530
+SHUFFLE	COMPRESS_BYTE_COUNT	171128
+SHUFFLE	COPY_MAP_DATA	175374000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1204214
+SHUFFLE	COMPRESS_BYTE_COUNT	174784
+SHUFFLE	COPY_MAP_DATA	12817000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1178102
+SHUFFLE	COMPRESS_BYTE_COUNT	171118
+SHUFFLE	COPY_MAP_DATA	404389000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1185752
+SHUFFLE	COMPRESS_BYTE_COUNT	172181
+SHUFFLE	COPY_MAP_DATA	379216000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1194320
+SHUFFLE	COMPRESS_BYTE_COUNT	173345
+SHUFFLE	COPY_MAP_DATA	13750000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4999430
+SHUFFLE	COMPRESS_BYTE_COUNT	733760
+SHUFFLE	COPY_MAP_DATA	45496000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1181774
+SHUFFLE	COMPRESS_BYTE_COUNT	171519
+SHUFFLE	COPY_MAP_DATA	46324000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4978316
+SHUFFLE	COMPRESS_BYTE_COUNT	730215
+SHUFFLE	COPY_MAP_DATA	6330419000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1183610
+SHUFFLE	COMPRESS_BYTE_COUNT	171888
+SHUFFLE	COPY_MAP_DATA	25569000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1180550
+SHUFFLE	COMPRESS_BYTE_COUNT	171540
+SHUFFLE	COPY_MAP_DATA	12798000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1166066
+SHUFFLE	COMPRESS_BYTE_COUNT	169369
+SHUFFLE	COPY_MAP_DATA	12928000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1174940
+SHUFFLE	COMPRESS_BYTE_COUNT	170585
+SHUFFLE	COPY_MAP_DATA	64166000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4989434
+SHUFFLE	COMPRESS_BYTE_COUNT	731995
+SHUFFLE	COPY_MAP_DATA	76919000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4998206
+SHUFFLE	COMPRESS_BYTE_COUNT	733176
+SHUFFLE	COPY_MAP_DATA	254085000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5051552
+SHUFFLE	COMPRESS_BYTE_COUNT	740624
+SHUFFLE	COPY_MAP_DATA	52758000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1187894
+SHUFFLE	COMPRESS_BYTE_COUNT	172331
+SHUFFLE	COPY_MAP_DATA	12602000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1200338
+SHUFFLE	COMPRESS_BYTE_COUNT	174379
+SHUFFLE	COPY_MAP_DATA	11894000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1186262
+SHUFFLE	COMPRESS_BYTE_COUNT	172238
+SHUFFLE	COPY_MAP_DATA	16055000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1185242
+SHUFFLE	COMPRESS_BYTE_COUNT	172015
+SHUFFLE	COPY_MAP_DATA	11490000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1180142
+SHUFFLE	COMPRESS_BYTE_COUNT	171224
+SHUFFLE	COPY_MAP_DATA	12485000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1200644
+SHUFFLE	COMPRESS_BYTE_COUNT	174213
+SHUFFLE	COPY_MAP_DATA	40940000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1185854
+SHUFFLE	COMPRESS_BYTE_COUNT	172165
+SHUFFLE	COPY_MAP_DATA	30740000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1163414
+SHUFFLE	COMPRESS_BYTE_COUNT	168824
+SHUFFLE	COPY_MAP_DATA	2752983000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1169738
+SHUFFLE	COMPRESS_BYTE_COUNT	169802
+SHUFFLE	COPY_MAP_DATA	12382000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1186262
+SHUFFLE	COMPRESS_BYTE_COUNT	172191
+SHUFFLE	COPY_MAP_DATA	23900000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1180244
+SHUFFLE	COMPRESS_BYTE_COUNT	171277
+SHUFFLE	COPY_MAP_DATA	12048000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1184630
+SHUFFLE	COMPRESS_BYTE_COUNT	171997
+SHUFFLE	COPY_MAP_DATA	1697431000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1175246
+SHUFFLE	COMPRESS_BYTE_COUNT	170426
+SHUFFLE	COPY_MAP_DATA	12221000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1171064
+SHUFFLE	COMPRESS_BYTE_COUNT	169957
+SHUFFLE	COPY_MAP_DATA	14662000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1188404
+SHUFFLE	COMPRESS_BYTE_COUNT	172565
+SHUFFLE	COPY_MAP_DATA	14598000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1176980
+SHUFFLE	COMPRESS_BYTE_COUNT	170980
+SHUFFLE	COPY_MAP_DATA	12877000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1170656
+SHUFFLE	COMPRESS_BYTE_COUNT	169832
+SHUFFLE	COPY_MAP_DATA	12299000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1179428
+SHUFFLE	COMPRESS_BYTE_COUNT	171248
+SHUFFLE	COPY_MAP_DATA	348284000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5027888
+SHUFFLE	COMPRESS_BYTE_COUNT	737352
+SHUFFLE	COPY_MAP_DATA	247213000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1185956
+SHUFFLE	COMPRESS_BYTE_COUNT	172099
+SHUFFLE	COPY_MAP_DATA	13068000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1181672
+SHUFFLE	COMPRESS_BYTE_COUNT	171547
+SHUFFLE	COPY_MAP_DATA	12751000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1173818
+SHUFFLE	COMPRESS_BYTE_COUNT	170383
+SHUFFLE	COPY_MAP_DATA	12137000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1190240
+SHUFFLE	COMPRESS_BYTE_COUNT	172735
+SHUFFLE	COPY_MAP_DATA	18536000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1186670
+SHUFFLE	COMPRESS_BYTE_COUNT	172346
+SHUFFLE	COPY_MAP_DATA	38217000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1175450
+SHUFFLE	COMPRESS_BYTE_COUNT	170582
+SHUFFLE	COPY_MAP_DATA	11310000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1181060
+SHUFFLE	COMPRESS_BYTE_COUNT	171453
+SHUFFLE	COPY_MAP_DATA	12349000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1176980
+SHUFFLE	COMPRESS_BYTE_COUNT	170807
+SHUFFLE	COPY_MAP_DATA	24482000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1181876
+SHUFFLE	COMPRESS_BYTE_COUNT	171640
+SHUFFLE	COPY_MAP_DATA	13700000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1188506
+SHUFFLE	COMPRESS_BYTE_COUNT	172448
+SHUFFLE	COPY_MAP_DATA	13513000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1184120
+SHUFFLE	COMPRESS_BYTE_COUNT	171802
+SHUFFLE	COPY_MAP_DATA	20686000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1191056
+SHUFFLE	COMPRESS_BYTE_COUNT	172930
+SHUFFLE	COPY_MAP_DATA	11071000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1203908
+SHUFFLE	COMPRESS_BYTE_COUNT	174776
+SHUFFLE	COPY_MAP_DATA	11288000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1191464
+SHUFFLE	COMPRESS_BYTE_COUNT	172922
+SHUFFLE	COPY_MAP_DATA	17238000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1168922
+SHUFFLE	COMPRESS_BYTE_COUNT	169754
+SHUFFLE	COPY_MAP_DATA	12315000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1180550
+SHUFFLE	COMPRESS_BYTE_COUNT	171409
+SHUFFLE	COPY_MAP_DATA	78909000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1188608
+SHUFFLE	COMPRESS_BYTE_COUNT	172482
+SHUFFLE	COPY_MAP_DATA	40097000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1168616
+SHUFFLE	COMPRESS_BYTE_COUNT	169661
+SHUFFLE	COPY_MAP_DATA	11585000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1188914
+SHUFFLE	COMPRESS_BYTE_COUNT	172691
+SHUFFLE	COPY_MAP_DATA	12628000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1202072
+SHUFFLE	COMPRESS_BYTE_COUNT	174452
+SHUFFLE	COPY_MAP_DATA	12613000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1185854
+SHUFFLE	COMPRESS_BYTE_COUNT	172014
+SHUFFLE	COPY_MAP_DATA	11802000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1180244
+SHUFFLE	COMPRESS_BYTE_COUNT	171344
+SHUFFLE	COPY_MAP_DATA	43201000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1192892
+SHUFFLE	COMPRESS_BYTE_COUNT	173059
+SHUFFLE	COPY_MAP_DATA	31956000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1157294
+SHUFFLE	COMPRESS_BYTE_COUNT	168075
+SHUFFLE	COPY_MAP_DATA	11726000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1194728
+SHUFFLE	COMPRESS_BYTE_COUNT	173433
+SHUFFLE	COPY_MAP_DATA	12443000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1201052
+SHUFFLE	COMPRESS_BYTE_COUNT	174384
+SHUFFLE	COPY_MAP_DATA	13266000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1168004
+SHUFFLE	COMPRESS_BYTE_COUNT	169628
+SHUFFLE	COPY_MAP_DATA	25623000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1186874
+SHUFFLE	COMPRESS_BYTE_COUNT	172299
+SHUFFLE	COPY_MAP_DATA	13286000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1185956
+SHUFFLE	COMPRESS_BYTE_COUNT	172140
+SHUFFLE	COPY_MAP_DATA	11634000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1170554
+SHUFFLE	COMPRESS_BYTE_COUNT	169921
+SHUFFLE	COPY_MAP_DATA	420130000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1189016
+SHUFFLE	COMPRESS_BYTE_COUNT	172600
+SHUFFLE	COPY_MAP_DATA	33688000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	267621752236
+MERGE	READ_WRITE	257109405236
+MERGE	READ_WRITE_COUNT	7
+MERGE	COMBINE	0
+MERGE	WRITE	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	14401617000
+SORT	READ_WRITE	14247901000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	168848400
+REDUCE	SETUP	324000
+REDUCE	SETUP_MEM	168848400
+REDUCE	CLEANUP	30000
+REDUCE	CLEANUP_MEM	132254112
+REDUCE	TOTAL_RUN	165428743000
+REDUCE	READ	22703416000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	85866439000
+REDUCE	WRITE	33817324000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	110077390
+REDUCE	VALUE_BYTE_COUNT	968681032
+REDUCE	REDUCE_MEM	132254112
+REDUCE	WRITE	4633000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	713404555236
@@ -0,0 +1,1229 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5083376
+SHUFFLE	COMPRESS_BYTE_COUNT	745220
+SHUFFLE	COPY_MAP_DATA	72270000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5087252
+SHUFFLE	COMPRESS_BYTE_COUNT	746259
+SHUFFLE	COPY_MAP_DATA	54407000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5041964
+SHUFFLE	COMPRESS_BYTE_COUNT	739213
+SHUFFLE	COPY_MAP_DATA	185418000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5028092
+SHUFFLE	COMPRESS_BYTE_COUNT	738180
+SHUFFLE	COPY_MAP_DATA	66786000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5070728
+SHUFFLE	COMPRESS_BYTE_COUNT	742997
+SHUFFLE	COPY_MAP_DATA	87642000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5043800
+SHUFFLE	COMPRESS_BYTE_COUNT	740241
+SHUFFLE	COPY_MAP_DATA	1173792000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5066648
+SHUFFLE	COMPRESS_BYTE_COUNT	743026
+SHUFFLE	COPY_MAP_DATA	71096000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5093678
+SHUFFLE	COMPRESS_BYTE_COUNT	747340
+SHUFFLE	COPY_MAP_DATA	238531000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5048900
+SHUFFLE	COMPRESS_BYTE_COUNT	740760
+SHUFFLE	COPY_MAP_DATA	113119000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5010752
+SHUFFLE	COMPRESS_BYTE_COUNT	735397
+SHUFFLE	COPY_MAP_DATA	107556000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5062058
+SHUFFLE	COMPRESS_BYTE_COUNT	742898
+SHUFFLE	COPY_MAP_DATA	94300000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5072462
+SHUFFLE	COMPRESS_BYTE_COUNT	744162
+SHUFFLE	COPY_MAP_DATA	62068000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5062568
+SHUFFLE	COMPRESS_BYTE_COUNT	742531
+SHUFFLE	COPY_MAP_DATA	55839000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5064608
+SHUFFLE	COMPRESS_BYTE_COUNT	742627
+SHUFFLE	COPY_MAP_DATA	83033000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5061650
+SHUFFLE	COMPRESS_BYTE_COUNT	742736
+SHUFFLE	COPY_MAP_DATA	51726000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5046860
+SHUFFLE	COMPRESS_BYTE_COUNT	740149
+SHUFFLE	COPY_MAP_DATA	118001000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5052776
+SHUFFLE	COMPRESS_BYTE_COUNT	740972
+SHUFFLE	COPY_MAP_DATA	166906000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5060732
+SHUFFLE	COMPRESS_BYTE_COUNT	742895
+SHUFFLE	COPY_MAP_DATA	48997000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5060120
+SHUFFLE	COMPRESS_BYTE_COUNT	742239
+SHUFFLE	COPY_MAP_DATA	196176000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5066444
+SHUFFLE	COMPRESS_BYTE_COUNT	743438
+SHUFFLE	COPY_MAP_DATA	54305000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5103572
+SHUFFLE	COMPRESS_BYTE_COUNT	748644
+SHUFFLE	COPY_MAP_DATA	85530000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5035640
+SHUFFLE	COMPRESS_BYTE_COUNT	738350
+SHUFFLE	COPY_MAP_DATA	379570000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5066444
+SHUFFLE	COMPRESS_BYTE_COUNT	742882
+SHUFFLE	COPY_MAP_DATA	103849000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5073686
+SHUFFLE	COMPRESS_BYTE_COUNT	744635
+SHUFFLE	COPY_MAP_DATA	58047000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5026868
+SHUFFLE	COMPRESS_BYTE_COUNT	737016
+SHUFFLE	COPY_MAP_DATA	54972000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5025848
+SHUFFLE	COMPRESS_BYTE_COUNT	737724
+SHUFFLE	COPY_MAP_DATA	714881000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5023094
+SHUFFLE	COMPRESS_BYTE_COUNT	737056
+SHUFFLE	COPY_MAP_DATA	48409000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5053796
+SHUFFLE	COMPRESS_BYTE_COUNT	741560
+SHUFFLE	COPY_MAP_DATA	220324000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5055530
+SHUFFLE	COMPRESS_BYTE_COUNT	741571
+SHUFFLE	COPY_MAP_DATA	87531000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5051654
+SHUFFLE	COMPRESS_BYTE_COUNT	740762
+SHUFFLE	COPY_MAP_DATA	260237000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5058488
+SHUFFLE	COMPRESS_BYTE_COUNT	741832
+SHUFFLE	COPY_MAP_DATA	112127000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5081234
+SHUFFLE	COMPRESS_BYTE_COUNT	745565
+SHUFFLE	COPY_MAP_DATA	61707000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5094494
+SHUFFLE	COMPRESS_BYTE_COUNT	747160
+SHUFFLE	COPY_MAP_DATA	51563000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5081948
+SHUFFLE	COMPRESS_BYTE_COUNT	745548
+SHUFFLE	COPY_MAP_DATA	160606000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5066342
+SHUFFLE	COMPRESS_BYTE_COUNT	742624
+SHUFFLE	COPY_MAP_DATA	57783000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5069708
+SHUFFLE	COMPRESS_BYTE_COUNT	743632
+SHUFFLE	COPY_MAP_DATA	66079000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5038904
+SHUFFLE	COMPRESS_BYTE_COUNT	739166
+SHUFFLE	COPY_MAP_DATA	50946000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5052980
+SHUFFLE	COMPRESS_BYTE_COUNT	741916
+SHUFFLE	COPY_MAP_DATA	84400000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5089496
+SHUFFLE	COMPRESS_BYTE_COUNT	746396
+SHUFFLE	COPY_MAP_DATA	48480000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5064200
+SHUFFLE	COMPRESS_BYTE_COUNT	743048
+SHUFFLE	COPY_MAP_DATA	103203000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5067056
+SHUFFLE	COMPRESS_BYTE_COUNT	743079
+SHUFFLE	COPY_MAP_DATA	48730000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5065016
+SHUFFLE	COMPRESS_BYTE_COUNT	743419
+SHUFFLE	COPY_MAP_DATA	159130000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5055938
+SHUFFLE	COMPRESS_BYTE_COUNT	741463
+SHUFFLE	COPY_MAP_DATA	424157000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5050124
+SHUFFLE	COMPRESS_BYTE_COUNT	741188
+SHUFFLE	COPY_MAP_DATA	57312000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5056652
+SHUFFLE	COMPRESS_BYTE_COUNT	741875
+SHUFFLE	COPY_MAP_DATA	86937000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5052164
+SHUFFLE	COMPRESS_BYTE_COUNT	740978
+SHUFFLE	COPY_MAP_DATA	195827000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5052266
+SHUFFLE	COMPRESS_BYTE_COUNT	741488
+SHUFFLE	COPY_MAP_DATA	47447000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5017178
+SHUFFLE	COMPRESS_BYTE_COUNT	736230
+SHUFFLE	COPY_MAP_DATA	240331000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5029928
+SHUFFLE	COMPRESS_BYTE_COUNT	738140
+SHUFFLE	COPY_MAP_DATA	78994000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5036456
+SHUFFLE	COMPRESS_BYTE_COUNT	738673
+SHUFFLE	COPY_MAP_DATA	46055000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5056550
+SHUFFLE	COMPRESS_BYTE_COUNT	741863
+SHUFFLE	COPY_MAP_DATA	62647000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5082254
+SHUFFLE	COMPRESS_BYTE_COUNT	741172
+SHUFFLE	COPY_MAP_DATA	95199000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5074706
+SHUFFLE	COMPRESS_BYTE_COUNT	744156
+SHUFFLE	COPY_MAP_DATA	448964000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5047268
+SHUFFLE	COMPRESS_BYTE_COUNT	740691
+SHUFFLE	COPY_MAP_DATA	63245000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5065934
+SHUFFLE	COMPRESS_BYTE_COUNT	742800
+SHUFFLE	COPY_MAP_DATA	48299000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5014118
+SHUFFLE	COMPRESS_BYTE_COUNT	735369
+SHUFFLE	COPY_MAP_DATA	50939000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5083376
+SHUFFLE	COMPRESS_BYTE_COUNT	745473
+SHUFFLE	COPY_MAP_DATA	2452619000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5070320
+SHUFFLE	COMPRESS_BYTE_COUNT	743091
+SHUFFLE	COPY_MAP_DATA	70972000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5056448
+SHUFFLE	COMPRESS_BYTE_COUNT	741774
+SHUFFLE	COPY_MAP_DATA	48030000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5061650
+SHUFFLE	COMPRESS_BYTE_COUNT	742378
+SHUFFLE	COPY_MAP_DATA	110131000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5006876
+SHUFFLE	COMPRESS_BYTE_COUNT	734907
+SHUFFLE	COPY_MAP_DATA	49441000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5031866
+SHUFFLE	COMPRESS_BYTE_COUNT	738470
+SHUFFLE	COPY_MAP_DATA	686960000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5068076
+SHUFFLE	COMPRESS_BYTE_COUNT	742764
+SHUFFLE	COPY_MAP_DATA	46044000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5038496
+SHUFFLE	COMPRESS_BYTE_COUNT	738905
+SHUFFLE	COPY_MAP_DATA	46643000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5107040
+SHUFFLE	COMPRESS_BYTE_COUNT	748934
+SHUFFLE	COPY_MAP_DATA	242991000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5079194
+SHUFFLE	COMPRESS_BYTE_COUNT	744723
+SHUFFLE	COPY_MAP_DATA	89197000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5072870
+SHUFFLE	COMPRESS_BYTE_COUNT	744092
+SHUFFLE	COPY_MAP_DATA	155943000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5027786
+SHUFFLE	COMPRESS_BYTE_COUNT	737934
+SHUFFLE	COPY_MAP_DATA	542741000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5079092
+SHUFFLE	COMPRESS_BYTE_COUNT	745317
+SHUFFLE	COPY_MAP_DATA	3953663000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5029520
+SHUFFLE	COMPRESS_BYTE_COUNT	737590
+SHUFFLE	COPY_MAP_DATA	90067000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5045126
+SHUFFLE	COMPRESS_BYTE_COUNT	739981
+SHUFFLE	COPY_MAP_DATA	113556000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5035334
+SHUFFLE	COMPRESS_BYTE_COUNT	739193
+SHUFFLE	COPY_MAP_DATA	298021000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5009222
+SHUFFLE	COMPRESS_BYTE_COUNT	734986
+SHUFFLE	COPY_MAP_DATA	1037961000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5047268
+SHUFFLE	COMPRESS_BYTE_COUNT	740587
+SHUFFLE	COPY_MAP_DATA	6919944000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5041556
+SHUFFLE	COMPRESS_BYTE_COUNT	739014
+SHUFFLE	COPY_MAP_DATA	49167000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5045840
+SHUFFLE	COMPRESS_BYTE_COUNT	740127
+SHUFFLE	COPY_MAP_DATA	74176000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5100104
+SHUFFLE	COMPRESS_BYTE_COUNT	747687
+SHUFFLE	COPY_MAP_DATA	286610000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5072054
+SHUFFLE	COMPRESS_BYTE_COUNT	744247
+SHUFFLE	COPY_MAP_DATA	47054000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5029622
+SHUFFLE	COMPRESS_BYTE_COUNT	737738
+SHUFFLE	COPY_MAP_DATA	106177000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5048390
+SHUFFLE	COMPRESS_BYTE_COUNT	740882
+SHUFFLE	COPY_MAP_DATA	46390000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5071544
+SHUFFLE	COMPRESS_BYTE_COUNT	744219
+SHUFFLE	COPY_MAP_DATA	1658697000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5071544
+SHUFFLE	COMPRESS_BYTE_COUNT	743953
+SHUFFLE	COPY_MAP_DATA	52051000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5081030
+SHUFFLE	COMPRESS_BYTE_COUNT	745346
+SHUFFLE	COPY_MAP_DATA	106080000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5072462
+SHUFFLE	COMPRESS_BYTE_COUNT	744039
+SHUFFLE	COPY_MAP_DATA	10337276000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5059610
+SHUFFLE	COMPRESS_BYTE_COUNT	741649
+SHUFFLE	COPY_MAP_DATA	123543000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5050328
+SHUFFLE	COMPRESS_BYTE_COUNT	741220
+SHUFFLE	COPY_MAP_DATA	6692784152
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5091740
+SHUFFLE	COMPRESS_BYTE_COUNT	746658
+SHUFFLE	COPY_MAP_DATA	128837000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5036456
+SHUFFLE	COMPRESS_BYTE_COUNT	738967
+SHUFFLE	COPY_MAP_DATA	61443000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5057672
+SHUFFLE	COMPRESS_BYTE_COUNT	741695
+SHUFFLE	COPY_MAP_DATA	45799000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5078480
+SHUFFLE	COMPRESS_BYTE_COUNT	745155
+SHUFFLE	COPY_MAP_DATA	48263000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5076134
+SHUFFLE	COMPRESS_BYTE_COUNT	744493
+SHUFFLE	COPY_MAP_DATA	1861250000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5064200
+SHUFFLE	COMPRESS_BYTE_COUNT	742745
+SHUFFLE	COPY_MAP_DATA	1108812000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5072972
+SHUFFLE	COMPRESS_BYTE_COUNT	743791
+SHUFFLE	COPY_MAP_DATA	45987000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5038802
+SHUFFLE	COMPRESS_BYTE_COUNT	739608
+SHUFFLE	COPY_MAP_DATA	104690000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5060936
+SHUFFLE	COMPRESS_BYTE_COUNT	742399
+SHUFFLE	COPY_MAP_DATA	1878091000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5063792
+SHUFFLE	COMPRESS_BYTE_COUNT	742865
+SHUFFLE	COPY_MAP_DATA	143897000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5061038
+SHUFFLE	COMPRESS_BYTE_COUNT	742030
+SHUFFLE	COPY_MAP_DATA	122807000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5099594
+SHUFFLE	COMPRESS_BYTE_COUNT	748148
+SHUFFLE	COPY_MAP_DATA	140668000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5069810
+SHUFFLE	COMPRESS_BYTE_COUNT	743819
+SHUFFLE	COPY_MAP_DATA	281661000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5050634
+SHUFFLE	COMPRESS_BYTE_COUNT	740516
+SHUFFLE	COPY_MAP_DATA	164416000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5055428
+SHUFFLE	COMPRESS_BYTE_COUNT	741777
+SHUFFLE	COPY_MAP_DATA	1779375000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5006366
+SHUFFLE	COMPRESS_BYTE_COUNT	734294
+SHUFFLE	COPY_MAP_DATA	62452000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5060018
+SHUFFLE	COMPRESS_BYTE_COUNT	742367
+SHUFFLE	COPY_MAP_DATA	190221000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5033090
+SHUFFLE	COMPRESS_BYTE_COUNT	738572
+SHUFFLE	COPY_MAP_DATA	1214002000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5048084
+SHUFFLE	COMPRESS_BYTE_COUNT	740671
+SHUFFLE	COPY_MAP_DATA	142251000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5036660
+SHUFFLE	COMPRESS_BYTE_COUNT	738397
+SHUFFLE	COPY_MAP_DATA	63985000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5058182
+SHUFFLE	COMPRESS_BYTE_COUNT	741378
+SHUFFLE	COPY_MAP_DATA	87191000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5067260
+SHUFFLE	COMPRESS_BYTE_COUNT	743129
+SHUFFLE	COPY_MAP_DATA	307033000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5079704
+SHUFFLE	COMPRESS_BYTE_COUNT	744665
+SHUFFLE	COPY_MAP_DATA	388947000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5043596
+SHUFFLE	COMPRESS_BYTE_COUNT	739759
+SHUFFLE	COPY_MAP_DATA	995064000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5101838
+SHUFFLE	COMPRESS_BYTE_COUNT	748012
+SHUFFLE	COPY_MAP_DATA	101172000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5061140
+SHUFFLE	COMPRESS_BYTE_COUNT	742378
+SHUFFLE	COPY_MAP_DATA	516362000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5043392
+SHUFFLE	COMPRESS_BYTE_COUNT	739802
+SHUFFLE	COPY_MAP_DATA	853236000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5092760
+SHUFFLE	COMPRESS_BYTE_COUNT	747160
+SHUFFLE	COPY_MAP_DATA	300545000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5062364
+SHUFFLE	COMPRESS_BYTE_COUNT	742352
+SHUFFLE	COPY_MAP_DATA	179400000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5003204
+SHUFFLE	COMPRESS_BYTE_COUNT	733708
+SHUFFLE	COPY_MAP_DATA	95354000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5069198
+SHUFFLE	COMPRESS_BYTE_COUNT	743582
+SHUFFLE	COPY_MAP_DATA	179640000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5036558
+SHUFFLE	COMPRESS_BYTE_COUNT	738621
+SHUFFLE	COPY_MAP_DATA	125778000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4995554
+SHUFFLE	COMPRESS_BYTE_COUNT	732654
+SHUFFLE	COPY_MAP_DATA	66591000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5048390
+SHUFFLE	COMPRESS_BYTE_COUNT	740836
+SHUFFLE	COPY_MAP_DATA	630974000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5062262
+SHUFFLE	COMPRESS_BYTE_COUNT	742641
+SHUFFLE	COPY_MAP_DATA	76100000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5093474
+SHUFFLE	COMPRESS_BYTE_COUNT	746678
+SHUFFLE	COPY_MAP_DATA	85055000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5062160
+SHUFFLE	COMPRESS_BYTE_COUNT	742069
+SHUFFLE	COPY_MAP_DATA	46047000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5031560
+SHUFFLE	COMPRESS_BYTE_COUNT	737827
+SHUFFLE	COPY_MAP_DATA	45593000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5049512
+SHUFFLE	COMPRESS_BYTE_COUNT	740374
+SHUFFLE	COPY_MAP_DATA	46465000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5078684
+SHUFFLE	COMPRESS_BYTE_COUNT	744688
+SHUFFLE	COPY_MAP_DATA	11073441000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5058386
+SHUFFLE	COMPRESS_BYTE_COUNT	741952
+SHUFFLE	COPY_MAP_DATA	505471000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5082968
+SHUFFLE	COMPRESS_BYTE_COUNT	745727
+SHUFFLE	COPY_MAP_DATA	136482000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5009630
+SHUFFLE	COMPRESS_BYTE_COUNT	735197
+SHUFFLE	COPY_MAP_DATA	46050000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5066342
+SHUFFLE	COMPRESS_BYTE_COUNT	742968
+SHUFFLE	COPY_MAP_DATA	53823000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5066240
+SHUFFLE	COMPRESS_BYTE_COUNT	742975
+SHUFFLE	COPY_MAP_DATA	621752000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5067260
+SHUFFLE	COMPRESS_BYTE_COUNT	743368
+SHUFFLE	COPY_MAP_DATA	48311000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5050226
+SHUFFLE	COMPRESS_BYTE_COUNT	741326
+SHUFFLE	COPY_MAP_DATA	263556000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5045126
+SHUFFLE	COMPRESS_BYTE_COUNT	740332
+SHUFFLE	COPY_MAP_DATA	286074000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5093270
+SHUFFLE	COMPRESS_BYTE_COUNT	746877
+SHUFFLE	COPY_MAP_DATA	240560000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5050226
+SHUFFLE	COMPRESS_BYTE_COUNT	733811
+SHUFFLE	COPY_MAP_DATA	44778000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5071646
+SHUFFLE	COMPRESS_BYTE_COUNT	743921
+SHUFFLE	COPY_MAP_DATA	662435000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5044718
+SHUFFLE	COMPRESS_BYTE_COUNT	739655
+SHUFFLE	COPY_MAP_DATA	64389000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5070320
+SHUFFLE	COMPRESS_BYTE_COUNT	743348
+SHUFFLE	COPY_MAP_DATA	47180000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5066954
+SHUFFLE	COMPRESS_BYTE_COUNT	743167
+SHUFFLE	COPY_MAP_DATA	57500000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5063282
+SHUFFLE	COMPRESS_BYTE_COUNT	742897
+SHUFFLE	COPY_MAP_DATA	1612959000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5040740
+SHUFFLE	COMPRESS_BYTE_COUNT	739252
+SHUFFLE	COPY_MAP_DATA	848543000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5076950
+SHUFFLE	COMPRESS_BYTE_COUNT	744607
+SHUFFLE	COPY_MAP_DATA	69037000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5043290
+SHUFFLE	COMPRESS_BYTE_COUNT	739425
+SHUFFLE	COPY_MAP_DATA	53669000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1166882
+SHUFFLE	COMPRESS_BYTE_COUNT	169334
+SHUFFLE	COPY_MAP_DATA	59320000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5062976
+SHUFFLE	COMPRESS_BYTE_COUNT	742381
+SHUFFLE	COPY_MAP_DATA	784994000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5042882
+SHUFFLE	COMPRESS_BYTE_COUNT	739552
+SHUFFLE	COPY_MAP_DATA	86680000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5090210
+SHUFFLE	COMPRESS_BYTE_COUNT	746592
+SHUFFLE	COPY_MAP_DATA	87318000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5088170
+SHUFFLE	COMPRESS_BYTE_COUNT	746572
+SHUFFLE	COPY_MAP_DATA	112990000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1176266
+SHUFFLE	COMPRESS_BYTE_COUNT	170650
+SHUFFLE	COPY_MAP_DATA	157539000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5062568
+SHUFFLE	COMPRESS_BYTE_COUNT	742887
+SHUFFLE	COPY_MAP_DATA	43666000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5063078
+SHUFFLE	COMPRESS_BYTE_COUNT	743031
+SHUFFLE	COPY_MAP_DATA	171711000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1184018
+SHUFFLE	COMPRESS_BYTE_COUNT	171681
+SHUFFLE	COPY_MAP_DATA	108173000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5085110
+SHUFFLE	COMPRESS_BYTE_COUNT	745971
+SHUFFLE	COPY_MAP_DATA	270369000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5078888
+SHUFFLE	COMPRESS_BYTE_COUNT	745023
+SHUFFLE	COPY_MAP_DATA	167043000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5084906
+SHUFFLE	COMPRESS_BYTE_COUNT	745811
+SHUFFLE	COPY_MAP_DATA	68928000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5043392
+SHUFFLE	COMPRESS_BYTE_COUNT	739891
+SHUFFLE	COPY_MAP_DATA	144280000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5041658
+SHUFFLE	COMPRESS_BYTE_COUNT	739349
+SHUFFLE	COPY_MAP_DATA	44696000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5078582
+SHUFFLE	COMPRESS_BYTE_COUNT	744642
+SHUFFLE	COPY_MAP_DATA	1029987000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1183814
+SHUFFLE	COMPRESS_BYTE_COUNT	171733
+SHUFFLE	COPY_MAP_DATA	83662000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5063792
+SHUFFLE	COMPRESS_BYTE_COUNT	742793
+SHUFFLE	COPY_MAP_DATA	177345000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5045840
+SHUFFLE	COMPRESS_BYTE_COUNT	739889
+SHUFFLE	COPY_MAP_DATA	63270000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1182182
+SHUFFLE	COMPRESS_BYTE_COUNT	171674
+SHUFFLE	COPY_MAP_DATA	825718000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5051858
+SHUFFLE	COMPRESS_BYTE_COUNT	740772
+SHUFFLE	COPY_MAP_DATA	141997000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5066852
+SHUFFLE	COMPRESS_BYTE_COUNT	742881
+SHUFFLE	COPY_MAP_DATA	109950000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5040638
+SHUFFLE	COMPRESS_BYTE_COUNT	739678
+SHUFFLE	COPY_MAP_DATA	268192000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1205438
+SHUFFLE	COMPRESS_BYTE_COUNT	174860
+SHUFFLE	COPY_MAP_DATA	12992000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5052368
+SHUFFLE	COMPRESS_BYTE_COUNT	741451
+SHUFFLE	COPY_MAP_DATA	127541000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5066852
+SHUFFLE	COMPRESS_BYTE_COUNT	743024
+SHUFFLE	COPY_MAP_DATA	83498000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5064812
+SHUFFLE	COMPRESS_BYTE_COUNT	743077
+SHUFFLE	COPY_MAP_DATA	46577000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5126114
+SHUFFLE	COMPRESS_BYTE_COUNT	751438
+SHUFFLE	COPY_MAP_DATA	4353131000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5011364
+SHUFFLE	COMPRESS_BYTE_COUNT	734991
+SHUFFLE	COPY_MAP_DATA	1427947000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5044004
+SHUFFLE	COMPRESS_BYTE_COUNT	739867
+SHUFFLE	COPY_MAP_DATA	4366084000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1168922
+SHUFFLE	COMPRESS_BYTE_COUNT	169651
+SHUFFLE	COPY_MAP_DATA	15703000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1185140
+SHUFFLE	COMPRESS_BYTE_COUNT	171955
+SHUFFLE	COPY_MAP_DATA	3135596000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5079908
+SHUFFLE	COMPRESS_BYTE_COUNT	745262
+SHUFFLE	COPY_MAP_DATA	173349000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5047064
+SHUFFLE	COMPRESS_BYTE_COUNT	740369
+SHUFFLE	COPY_MAP_DATA	204720000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5070626
+SHUFFLE	COMPRESS_BYTE_COUNT	744121
+SHUFFLE	COPY_MAP_DATA	564054000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5054714
+SHUFFLE	COMPRESS_BYTE_COUNT	741232
+SHUFFLE	COPY_MAP_DATA	743655000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1195544
+SHUFFLE	COMPRESS_BYTE_COUNT	173386
+SHUFFLE	COPY_MAP_DATA	3879303000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5042576
+SHUFFLE	COMPRESS_BYTE_COUNT	739530
+SHUFFLE	COPY_MAP_DATA	49370000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5047880
+SHUFFLE	COMPRESS_BYTE_COUNT	740715
+SHUFFLE	COPY_MAP_DATA	2610274000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5042168
+SHUFFLE	COMPRESS_BYTE_COUNT	739422
+SHUFFLE	COPY_MAP_DATA	46415000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1194524
+SHUFFLE	COMPRESS_BYTE_COUNT	173499
+SHUFFLE	COPY_MAP_DATA	133953000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5081744
+SHUFFLE	COMPRESS_BYTE_COUNT	744959
+SHUFFLE	COPY_MAP_DATA	3372333000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5028704
+SHUFFLE	COMPRESS_BYTE_COUNT	737897
+SHUFFLE	COPY_MAP_DATA	46436000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5070626
+SHUFFLE	COMPRESS_BYTE_COUNT	743706
+SHUFFLE	COPY_MAP_DATA	48011000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5037170
+SHUFFLE	COMPRESS_BYTE_COUNT	738773
+SHUFFLE	COPY_MAP_DATA	237430000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1185344
+SHUFFLE	COMPRESS_BYTE_COUNT	172001
+SHUFFLE	COPY_MAP_DATA	50320000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1191362
+SHUFFLE	COMPRESS_BYTE_COUNT	172896
+SHUFFLE	COPY_MAP_DATA	222074000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1188098
+SHUFFLE	COMPRESS_BYTE_COUNT	172372
+SHUFFLE	COPY_MAP_DATA	15805000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5065934
+SHUFFLE	COMPRESS_BYTE_COUNT	742777
+SHUFFLE	COPY_MAP_DATA	89081000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5064710
+SHUFFLE	COMPRESS_BYTE_COUNT	742788
+SHUFFLE	COPY_MAP_DATA	67856000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1186670
+SHUFFLE	COMPRESS_BYTE_COUNT	172202
+SHUFFLE	COPY_MAP_DATA	33517000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5052572
+SHUFFLE	COMPRESS_BYTE_COUNT	741421
+SHUFFLE	COPY_MAP_DATA	177198000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1170758
+SHUFFLE	COMPRESS_BYTE_COUNT	169894
+SHUFFLE	COPY_MAP_DATA	14775000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5014322
+SHUFFLE	COMPRESS_BYTE_COUNT	735648
+SHUFFLE	COPY_MAP_DATA	112472000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1190852
+SHUFFLE	COMPRESS_BYTE_COUNT	172661
+SHUFFLE	COPY_MAP_DATA	13516000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1203092
+SHUFFLE	COMPRESS_BYTE_COUNT	174607
+SHUFFLE	COPY_MAP_DATA	12966000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1196768
+SHUFFLE	COMPRESS_BYTE_COUNT	173535
+SHUFFLE	COPY_MAP_DATA	908062000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1160456
+SHUFFLE	COMPRESS_BYTE_COUNT	168420
+SHUFFLE	COPY_MAP_DATA	86080000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1178612
+SHUFFLE	COMPRESS_BYTE_COUNT	171168
+SHUFFLE	COPY_MAP_DATA	13149000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1192688
+SHUFFLE	COMPRESS_BYTE_COUNT	173112
+SHUFFLE	COPY_MAP_DATA	19971000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5091332
+SHUFFLE	COMPRESS_BYTE_COUNT	746883
+SHUFFLE	COPY_MAP_DATA	170417000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5031356
+SHUFFLE	COMPRESS_BYTE_COUNT	738354
+SHUFFLE	COPY_MAP_DATA	97405000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5060732
+SHUFFLE	COMPRESS_BYTE_COUNT	742314
+SHUFFLE	COPY_MAP_DATA	11424680000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5049716
+SHUFFLE	COMPRESS_BYTE_COUNT	740759
+SHUFFLE	COPY_MAP_DATA	111992000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1180958
+SHUFFLE	COMPRESS_BYTE_COUNT	171341
+SHUFFLE	COPY_MAP_DATA	13528000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4998716
+SHUFFLE	COMPRESS_BYTE_COUNT	733325
+SHUFFLE	COPY_MAP_DATA	45369000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5042270
+SHUFFLE	COMPRESS_BYTE_COUNT	739721
+SHUFFLE	COPY_MAP_DATA	149052000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5023502
+SHUFFLE	COMPRESS_BYTE_COUNT	736719
+SHUFFLE	COPY_MAP_DATA	48304000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1185344
+SHUFFLE	COMPRESS_BYTE_COUNT	172022
+SHUFFLE	COPY_MAP_DATA	13318000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5052470
+SHUFFLE	COMPRESS_BYTE_COUNT	740925
+SHUFFLE	COPY_MAP_DATA	4471443000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1165964
+SHUFFLE	COMPRESS_BYTE_COUNT	169309
+SHUFFLE	COPY_MAP_DATA	30410000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1175858
+SHUFFLE	COMPRESS_BYTE_COUNT	170644
+SHUFFLE	COPY_MAP_DATA	13247000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1203194
+SHUFFLE	COMPRESS_BYTE_COUNT	174522
+SHUFFLE	COPY_MAP_DATA	19436000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1196462
+SHUFFLE	COMPRESS_BYTE_COUNT	173727
+SHUFFLE	COPY_MAP_DATA	24778000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1197380
+SHUFFLE	COMPRESS_BYTE_COUNT	173763
+SHUFFLE	COPY_MAP_DATA	19265000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1192382
+SHUFFLE	COMPRESS_BYTE_COUNT	173014
+SHUFFLE	COPY_MAP_DATA	38793000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1191566
+SHUFFLE	COMPRESS_BYTE_COUNT	172955
+SHUFFLE	COPY_MAP_DATA	13316000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5038802
+SHUFFLE	COMPRESS_BYTE_COUNT	738990
+SHUFFLE	COPY_MAP_DATA	270059000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1176776
+SHUFFLE	COMPRESS_BYTE_COUNT	170690
+SHUFFLE	COPY_MAP_DATA	23383000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1198910
+SHUFFLE	COMPRESS_BYTE_COUNT	173964
+SHUFFLE	COPY_MAP_DATA	18014000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1194116
+SHUFFLE	COMPRESS_BYTE_COUNT	173457
+SHUFFLE	COPY_MAP_DATA	83847000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1186058
+SHUFFLE	COMPRESS_BYTE_COUNT	172082
+SHUFFLE	COPY_MAP_DATA	30381000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1186976
+SHUFFLE	COMPRESS_BYTE_COUNT	172221
+SHUFFLE	COPY_MAP_DATA	3598986000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1178612
+SHUFFLE	COMPRESS_BYTE_COUNT	170962
+SHUFFLE	COPY_MAP_DATA	12604000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5064302
+SHUFFLE	COMPRESS_BYTE_COUNT	743240
+SHUFFLE	COPY_MAP_DATA	45773000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5062568
+SHUFFLE	COMPRESS_BYTE_COUNT	742855
+SHUFFLE	COPY_MAP_DATA	1981561000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1175246
+SHUFFLE	COMPRESS_BYTE_COUNT	170613
+SHUFFLE	COPY_MAP_DATA	13781000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1182182
+SHUFFLE	COMPRESS_BYTE_COUNT	171606
+SHUFFLE	COPY_MAP_DATA	2096862000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1181060
+SHUFFLE	COMPRESS_BYTE_COUNT	171352
+SHUFFLE	COPY_MAP_DATA	12838000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1186058
+SHUFFLE	COMPRESS_BYTE_COUNT	172151
+SHUFFLE	COPY_MAP_DATA	13504000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1182998
+SHUFFLE	COMPRESS_BYTE_COUNT	171656
+SHUFFLE	COPY_MAP_DATA	13060000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1157192
+SHUFFLE	COMPRESS_BYTE_COUNT	168039
+SHUFFLE	COPY_MAP_DATA	13218000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1185242
+SHUFFLE	COMPRESS_BYTE_COUNT	172041
+SHUFFLE	COPY_MAP_DATA	737873000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1169228
+SHUFFLE	COMPRESS_BYTE_COUNT	169766
+SHUFFLE	COPY_MAP_DATA	12944000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1203398
+SHUFFLE	COMPRESS_BYTE_COUNT	174607
+SHUFFLE	COPY_MAP_DATA	1237862000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5065322
+SHUFFLE	COMPRESS_BYTE_COUNT	743289
+SHUFFLE	COPY_MAP_DATA	87357000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1190852
+SHUFFLE	COMPRESS_BYTE_COUNT	172866
+SHUFFLE	COPY_MAP_DATA	14879000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5033396
+SHUFFLE	COMPRESS_BYTE_COUNT	738390
+SHUFFLE	COPY_MAP_DATA	78640000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5061650
+SHUFFLE	COMPRESS_BYTE_COUNT	742430
+SHUFFLE	COPY_MAP_DATA	2912935000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1203908
+SHUFFLE	COMPRESS_BYTE_COUNT	174838
+SHUFFLE	COPY_MAP_DATA	13597000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1190954
+SHUFFLE	COMPRESS_BYTE_COUNT	172894
+SHUFFLE	COPY_MAP_DATA	15014000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1182794
+SHUFFLE	COMPRESS_BYTE_COUNT	171658
+SHUFFLE	COPY_MAP_DATA	23784000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1187078
+SHUFFLE	COMPRESS_BYTE_COUNT	172310
+SHUFFLE	COPY_MAP_DATA	7397494000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5056550
+SHUFFLE	COMPRESS_BYTE_COUNT	741513
+SHUFFLE	COPY_MAP_DATA	53374000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1184222
+SHUFFLE	COMPRESS_BYTE_COUNT	171794
+SHUFFLE	COPY_MAP_DATA	13848000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1179836
+SHUFFLE	COMPRESS_BYTE_COUNT	171232
+SHUFFLE	COPY_MAP_DATA	18238000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5046146
+SHUFFLE	COMPRESS_BYTE_COUNT	740686
+SHUFFLE	COPY_MAP_DATA	46590000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5059916
+SHUFFLE	COMPRESS_BYTE_COUNT	742122
+SHUFFLE	COPY_MAP_DATA	55724000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1186568
+SHUFFLE	COMPRESS_BYTE_COUNT	172101
+SHUFFLE	COPY_MAP_DATA	13257000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1203194
+SHUFFLE	COMPRESS_BYTE_COUNT	174670
+SHUFFLE	COPY_MAP_DATA	27802000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1176062
+SHUFFLE	COMPRESS_BYTE_COUNT	170711
+SHUFFLE	COPY_MAP_DATA	17983000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1201052
+SHUFFLE	COMPRESS_BYTE_COUNT	174417
+SHUFFLE	COPY_MAP_DATA	13047000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1203194
+SHUFFLE	COMPRESS_BYTE_COUNT	174761
+SHUFFLE	COPY_MAP_DATA	12163000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1179326
+SHUFFLE	COMPRESS_BYTE_COUNT	171297
+SHUFFLE	COPY_MAP_DATA	455589000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1181774
+SHUFFLE	COMPRESS_BYTE_COUNT	171723
+SHUFFLE	COPY_MAP_DATA	35709000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1183814
+SHUFFLE	COMPRESS_BYTE_COUNT	171884
+SHUFFLE	COPY_MAP_DATA	12502000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1182896
+SHUFFLE	COMPRESS_BYTE_COUNT	171806
+SHUFFLE	COPY_MAP_DATA	11625000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1175246
+SHUFFLE	COMPRESS_BYTE_COUNT	170544
+SHUFFLE	COPY_MAP_DATA	12248000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1188710
+SHUFFLE	COMPRESS_BYTE_COUNT	172482
+SHUFFLE	COPY_MAP_DATA	131144000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1192178
+SHUFFLE	COMPRESS_BYTE_COUNT	173013
+SHUFFLE	COPY_MAP_DATA	12228000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5038190
+SHUFFLE	COMPRESS_BYTE_COUNT	739051
+SHUFFLE	COPY_MAP_DATA	45392000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1198706
+SHUFFLE	COMPRESS_BYTE_COUNT	173903
+SHUFFLE	COPY_MAP_DATA	635966000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1192178
+SHUFFLE	COMPRESS_BYTE_COUNT	172983
+SHUFFLE	COPY_MAP_DATA	13198000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1198808
+SHUFFLE	COMPRESS_BYTE_COUNT	174009
+SHUFFLE	COPY_MAP_DATA	470716000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1180142
+SHUFFLE	COMPRESS_BYTE_COUNT	171302
+SHUFFLE	COPY_MAP_DATA	40191000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1207478
+SHUFFLE	COMPRESS_BYTE_COUNT	175309
+SHUFFLE	COPY_MAP_DATA	14036000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1171778
+SHUFFLE	COMPRESS_BYTE_COUNT	169960
+SHUFFLE	COPY_MAP_DATA	13092000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1196156
+SHUFFLE	COMPRESS_BYTE_COUNT	173680
+SHUFFLE	COPY_MAP_DATA	12166000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1205234
+SHUFFLE	COMPRESS_BYTE_COUNT	174887
+SHUFFLE	COPY_MAP_DATA	36717000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1197686
+SHUFFLE	COMPRESS_BYTE_COUNT	173749
+SHUFFLE	COPY_MAP_DATA	23989000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1185140
+SHUFFLE	COMPRESS_BYTE_COUNT	171924
+SHUFFLE	COPY_MAP_DATA	13346000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1196666
+SHUFFLE	COMPRESS_BYTE_COUNT	173597
+SHUFFLE	COPY_MAP_DATA	21908000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1185752
+SHUFFLE	COMPRESS_BYTE_COUNT	172016
+SHUFFLE	COPY_MAP_DATA	17162000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1177082
+SHUFFLE	COMPRESS_BYTE_COUNT	170854
+SHUFFLE	COPY_MAP_DATA	12567000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1197176
+SHUFFLE	COMPRESS_BYTE_COUNT	173763
+SHUFFLE	COPY_MAP_DATA	12560000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1197074
+SHUFFLE	COMPRESS_BYTE_COUNT	173743
+SHUFFLE	COPY_MAP_DATA	30491000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1191260
+SHUFFLE	COMPRESS_BYTE_COUNT	172920
+SHUFFLE	COPY_MAP_DATA	52512000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1181876
+SHUFFLE	COMPRESS_BYTE_COUNT	171450
+SHUFFLE	COPY_MAP_DATA	13076000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1191872
+SHUFFLE	COMPRESS_BYTE_COUNT	172979
+SHUFFLE	COPY_MAP_DATA	14568000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1210028
+SHUFFLE	COMPRESS_BYTE_COUNT	175610
+SHUFFLE	COPY_MAP_DATA	12816000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1203704
+SHUFFLE	COMPRESS_BYTE_COUNT	174713
+SHUFFLE	COPY_MAP_DATA	13702000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1187996
+SHUFFLE	COMPRESS_BYTE_COUNT	172475
+SHUFFLE	COPY_MAP_DATA	13490000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1191056
+SHUFFLE	COMPRESS_BYTE_COUNT	172929
+SHUFFLE	COPY_MAP_DATA	31041000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1177694
+SHUFFLE	COMPRESS_BYTE_COUNT	171018
+SHUFFLE	COPY_MAP_DATA	178265000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1184834
+SHUFFLE	COMPRESS_BYTE_COUNT	171976
+SHUFFLE	COPY_MAP_DATA	26063000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1185446
+SHUFFLE	COMPRESS_BYTE_COUNT	172116
+SHUFFLE	COPY_MAP_DATA	13071000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1196054
+SHUFFLE	COMPRESS_BYTE_COUNT	173634
+SHUFFLE	COPY_MAP_DATA	12516000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1194320
+SHUFFLE	COMPRESS_BYTE_COUNT	173312
+SHUFFLE	COPY_MAP_DATA	12482000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1170452
+SHUFFLE	COMPRESS_BYTE_COUNT	169916
+SHUFFLE	COPY_MAP_DATA	12095000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1187894
+SHUFFLE	COMPRESS_BYTE_COUNT	172372
+SHUFFLE	COPY_MAP_DATA	12304000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1173410
+SHUFFLE	COMPRESS_BYTE_COUNT	170264
+SHUFFLE	COPY_MAP_DATA	12176000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1183610
+SHUFFLE	COMPRESS_BYTE_COUNT	171752
+SHUFFLE	COPY_MAP_DATA	15428000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1194626
+SHUFFLE	COMPRESS_BYTE_COUNT	173273
+SHUFFLE	COPY_MAP_DATA	15281000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1202174
+SHUFFLE	COMPRESS_BYTE_COUNT	174383
+SHUFFLE	COPY_MAP_DATA	13465000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1196972
+SHUFFLE	COMPRESS_BYTE_COUNT	173715
+SHUFFLE	COPY_MAP_DATA	122406000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1181162
+SHUFFLE	COMPRESS_BYTE_COUNT	171424
+SHUFFLE	COPY_MAP_DATA	13409000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1191872
+SHUFFLE	COMPRESS_BYTE_COUNT	172983
+SHUFFLE	COPY_MAP_DATA	16924000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	302946506152
+MERGE	READ_WRITE	295551256152
+MERGE	READ_WRITE_COUNT	8
+MERGE	COMBINE	0
+MERGE	WRITE	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	1665304000
+SORT	READ_WRITE	1561377000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	165484560
+REDUCE	SETUP	349000
+REDUCE	SETUP_MEM	165484560
+REDUCE	CLEANUP	34000
+REDUCE	CLEANUP_MEM	188433784
+REDUCE	TOTAL_RUN	273950090152
+REDUCE	READ	55354833000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	140965540152
+REDUCE	WRITE	83839350152
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	110802010
+REDUCE	VALUE_BYTE_COUNT	975057688
+REDUCE	REDUCE_MEM	188435832
+REDUCE	WRITE	3867000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	815559933152
@@ -0,0 +1,1229 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5124992
+SHUFFLE	COMPRESS_BYTE_COUNT	751823
+SHUFFLE	COPY_MAP_DATA	3999477000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5123156
+SHUFFLE	COMPRESS_BYTE_COUNT	751067
+SHUFFLE	COPY_MAP_DATA	59112000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5153654
+SHUFFLE	COMPRESS_BYTE_COUNT	755560
+SHUFFLE	COPY_MAP_DATA	220263000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5122646
+SHUFFLE	COMPRESS_BYTE_COUNT	751439
+SHUFFLE	COPY_MAP_DATA	159769000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5095820
+SHUFFLE	COMPRESS_BYTE_COUNT	747801
+SHUFFLE	COPY_MAP_DATA	3328467000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5115098
+SHUFFLE	COMPRESS_BYTE_COUNT	750449
+SHUFFLE	COPY_MAP_DATA	284602000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5155694
+SHUFFLE	COMPRESS_BYTE_COUNT	755730
+SHUFFLE	COPY_MAP_DATA	135607000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5105306
+SHUFFLE	COMPRESS_BYTE_COUNT	749131
+SHUFFLE	COPY_MAP_DATA	82877000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5126318
+SHUFFLE	COMPRESS_BYTE_COUNT	752102
+SHUFFLE	COPY_MAP_DATA	173217000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5072258
+SHUFFLE	COMPRESS_BYTE_COUNT	744021
+SHUFFLE	COPY_MAP_DATA	206665000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5126216
+SHUFFLE	COMPRESS_BYTE_COUNT	752351
+SHUFFLE	COPY_MAP_DATA	100550000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5128256
+SHUFFLE	COMPRESS_BYTE_COUNT	751941
+SHUFFLE	COPY_MAP_DATA	486743000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5138150
+SHUFFLE	COMPRESS_BYTE_COUNT	753465
+SHUFFLE	COPY_MAP_DATA	57096000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5101940
+SHUFFLE	COMPRESS_BYTE_COUNT	748937
+SHUFFLE	COPY_MAP_DATA	174615000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5124278
+SHUFFLE	COMPRESS_BYTE_COUNT	750992
+SHUFFLE	COPY_MAP_DATA	63935000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5183642
+SHUFFLE	COMPRESS_BYTE_COUNT	760173
+SHUFFLE	COPY_MAP_DATA	92586000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5151818
+SHUFFLE	COMPRESS_BYTE_COUNT	755625
+SHUFFLE	COPY_MAP_DATA	61250000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5125910
+SHUFFLE	COMPRESS_BYTE_COUNT	751760
+SHUFFLE	COPY_MAP_DATA	66168000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5093576
+SHUFFLE	COMPRESS_BYTE_COUNT	747614
+SHUFFLE	COPY_MAP_DATA	469008000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5122136
+SHUFFLE	COMPRESS_BYTE_COUNT	751263
+SHUFFLE	COPY_MAP_DATA	49268000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5128664
+SHUFFLE	COMPRESS_BYTE_COUNT	752113
+SHUFFLE	COPY_MAP_DATA	50687000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5100308
+SHUFFLE	COMPRESS_BYTE_COUNT	748207
+SHUFFLE	COPY_MAP_DATA	47910000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5116526
+SHUFFLE	COMPRESS_BYTE_COUNT	750555
+SHUFFLE	COPY_MAP_DATA	65212000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5102144
+SHUFFLE	COMPRESS_BYTE_COUNT	748180
+SHUFFLE	COPY_MAP_DATA	166829000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5077766
+SHUFFLE	COMPRESS_BYTE_COUNT	745022
+SHUFFLE	COPY_MAP_DATA	800858000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5139476
+SHUFFLE	COMPRESS_BYTE_COUNT	753541
+SHUFFLE	COPY_MAP_DATA	50090000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5122340
+SHUFFLE	COMPRESS_BYTE_COUNT	751201
+SHUFFLE	COPY_MAP_DATA	51908000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5108060
+SHUFFLE	COMPRESS_BYTE_COUNT	749009
+SHUFFLE	COPY_MAP_DATA	51183000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5119994
+SHUFFLE	COMPRESS_BYTE_COUNT	750986
+SHUFFLE	COPY_MAP_DATA	53742000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5144576
+SHUFFLE	COMPRESS_BYTE_COUNT	754501
+SHUFFLE	COPY_MAP_DATA	1099045000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5138966
+SHUFFLE	COMPRESS_BYTE_COUNT	753784
+SHUFFLE	COPY_MAP_DATA	56991000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5109896
+SHUFFLE	COMPRESS_BYTE_COUNT	749198
+SHUFFLE	COPY_MAP_DATA	57609000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5152430
+SHUFFLE	COMPRESS_BYTE_COUNT	755479
+SHUFFLE	COPY_MAP_DATA	160148000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5118464
+SHUFFLE	COMPRESS_BYTE_COUNT	751166
+SHUFFLE	COPY_MAP_DATA	48254000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5139170
+SHUFFLE	COMPRESS_BYTE_COUNT	753961
+SHUFFLE	COPY_MAP_DATA	108066000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5120300
+SHUFFLE	COMPRESS_BYTE_COUNT	750887
+SHUFFLE	COPY_MAP_DATA	88817000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5116730
+SHUFFLE	COMPRESS_BYTE_COUNT	749898
+SHUFFLE	COPY_MAP_DATA	48462000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5124380
+SHUFFLE	COMPRESS_BYTE_COUNT	751525
+SHUFFLE	COPY_MAP_DATA	49289000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5097656
+SHUFFLE	COMPRESS_BYTE_COUNT	747335
+SHUFFLE	COPY_MAP_DATA	49128000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5122646
+SHUFFLE	COMPRESS_BYTE_COUNT	751716
+SHUFFLE	COPY_MAP_DATA	48376000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5121320
+SHUFFLE	COMPRESS_BYTE_COUNT	751151
+SHUFFLE	COPY_MAP_DATA	54876000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5113364
+SHUFFLE	COMPRESS_BYTE_COUNT	749672
+SHUFFLE	COPY_MAP_DATA	137916000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5125196
+SHUFFLE	COMPRESS_BYTE_COUNT	751969
+SHUFFLE	COPY_MAP_DATA	225207000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5136824
+SHUFFLE	COMPRESS_BYTE_COUNT	753343
+SHUFFLE	COPY_MAP_DATA	491543000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5119994
+SHUFFLE	COMPRESS_BYTE_COUNT	751066
+SHUFFLE	COPY_MAP_DATA	49385000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5129480
+SHUFFLE	COMPRESS_BYTE_COUNT	752604
+SHUFFLE	COPY_MAP_DATA	52589000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5127644
+SHUFFLE	COMPRESS_BYTE_COUNT	751927
+SHUFFLE	COPY_MAP_DATA	1017400000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5108468
+SHUFFLE	COMPRESS_BYTE_COUNT	749172
+SHUFFLE	COPY_MAP_DATA	48274000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5111018
+SHUFFLE	COMPRESS_BYTE_COUNT	749850
+SHUFFLE	COPY_MAP_DATA	1220398000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5087558
+SHUFFLE	COMPRESS_BYTE_COUNT	746347
+SHUFFLE	COPY_MAP_DATA	47122000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5105714
+SHUFFLE	COMPRESS_BYTE_COUNT	749114
+SHUFFLE	COPY_MAP_DATA	47709000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5117444
+SHUFFLE	COMPRESS_BYTE_COUNT	750691
+SHUFFLE	COPY_MAP_DATA	66890000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5111018
+SHUFFLE	COMPRESS_BYTE_COUNT	749537
+SHUFFLE	COPY_MAP_DATA	55281000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5108978
+SHUFFLE	COMPRESS_BYTE_COUNT	744792
+SHUFFLE	COPY_MAP_DATA	3712342000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5111630
+SHUFFLE	COMPRESS_BYTE_COUNT	749598
+SHUFFLE	COPY_MAP_DATA	49580000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5107856
+SHUFFLE	COMPRESS_BYTE_COUNT	749055
+SHUFFLE	COPY_MAP_DATA	340584000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5138150
+SHUFFLE	COMPRESS_BYTE_COUNT	753352
+SHUFFLE	COPY_MAP_DATA	391030000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5106122
+SHUFFLE	COMPRESS_BYTE_COUNT	748862
+SHUFFLE	COPY_MAP_DATA	151775000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5101532
+SHUFFLE	COMPRESS_BYTE_COUNT	748058
+SHUFFLE	COPY_MAP_DATA	135505000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5120708
+SHUFFLE	COMPRESS_BYTE_COUNT	750983
+SHUFFLE	COPY_MAP_DATA	50724000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5130194
+SHUFFLE	COMPRESS_BYTE_COUNT	752731
+SHUFFLE	COPY_MAP_DATA	60548000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5107142
+SHUFFLE	COMPRESS_BYTE_COUNT	749569
+SHUFFLE	COPY_MAP_DATA	203639000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5084702
+SHUFFLE	COMPRESS_BYTE_COUNT	745705
+SHUFFLE	COPY_MAP_DATA	176936000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5147024
+SHUFFLE	COMPRESS_BYTE_COUNT	754651
+SHUFFLE	COPY_MAP_DATA	108601000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5148350
+SHUFFLE	COMPRESS_BYTE_COUNT	755343
+SHUFFLE	COPY_MAP_DATA	46368000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5160488
+SHUFFLE	COMPRESS_BYTE_COUNT	757147
+SHUFFLE	COPY_MAP_DATA	47191000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5127338
+SHUFFLE	COMPRESS_BYTE_COUNT	751630
+SHUFFLE	COPY_MAP_DATA	45313000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5159162
+SHUFFLE	COMPRESS_BYTE_COUNT	756692
+SHUFFLE	COPY_MAP_DATA	49083000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5078378
+SHUFFLE	COMPRESS_BYTE_COUNT	744819
+SHUFFLE	COPY_MAP_DATA	74497000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5129888
+SHUFFLE	COMPRESS_BYTE_COUNT	752743
+SHUFFLE	COPY_MAP_DATA	1023730000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5102756
+SHUFFLE	COMPRESS_BYTE_COUNT	748747
+SHUFFLE	COPY_MAP_DATA	61043000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5120912
+SHUFFLE	COMPRESS_BYTE_COUNT	750654
+SHUFFLE	COPY_MAP_DATA	320605000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5098166
+SHUFFLE	COMPRESS_BYTE_COUNT	747842
+SHUFFLE	COPY_MAP_DATA	99805000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5108468
+SHUFFLE	COMPRESS_BYTE_COUNT	749057
+SHUFFLE	COPY_MAP_DATA	164865000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5181194
+SHUFFLE	COMPRESS_BYTE_COUNT	759359
+SHUFFLE	COPY_MAP_DATA	48649000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5136518
+SHUFFLE	COMPRESS_BYTE_COUNT	753502
+SHUFFLE	COPY_MAP_DATA	247934000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5150594
+SHUFFLE	COMPRESS_BYTE_COUNT	755657
+SHUFFLE	COPY_MAP_DATA	7030939000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5098268
+SHUFFLE	COMPRESS_BYTE_COUNT	747900
+SHUFFLE	COPY_MAP_DATA	60696000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5124890
+SHUFFLE	COMPRESS_BYTE_COUNT	751556
+SHUFFLE	COPY_MAP_DATA	436032000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5089394
+SHUFFLE	COMPRESS_BYTE_COUNT	746911
+SHUFFLE	COPY_MAP_DATA	98797000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5105612
+SHUFFLE	COMPRESS_BYTE_COUNT	749214
+SHUFFLE	COPY_MAP_DATA	61957000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5098370
+SHUFFLE	COMPRESS_BYTE_COUNT	747976
+SHUFFLE	COPY_MAP_DATA	49129000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5147432
+SHUFFLE	COMPRESS_BYTE_COUNT	754938
+SHUFFLE	COPY_MAP_DATA	57044000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5137232
+SHUFFLE	COMPRESS_BYTE_COUNT	753659
+SHUFFLE	COPY_MAP_DATA	9634884000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5111834
+SHUFFLE	COMPRESS_BYTE_COUNT	750110
+SHUFFLE	COPY_MAP_DATA	7490399000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5109896
+SHUFFLE	COMPRESS_BYTE_COUNT	749465
+SHUFFLE	COPY_MAP_DATA	450946000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5098676
+SHUFFLE	COMPRESS_BYTE_COUNT	747508
+SHUFFLE	COPY_MAP_DATA	1017409000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5102042
+SHUFFLE	COMPRESS_BYTE_COUNT	748422
+SHUFFLE	COPY_MAP_DATA	3688768000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5145800
+SHUFFLE	COMPRESS_BYTE_COUNT	754555
+SHUFFLE	COPY_MAP_DATA	50038000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5136008
+SHUFFLE	COMPRESS_BYTE_COUNT	753543
+SHUFFLE	COPY_MAP_DATA	82080000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5114792
+SHUFFLE	COMPRESS_BYTE_COUNT	750380
+SHUFFLE	COPY_MAP_DATA	61322000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5115302
+SHUFFLE	COMPRESS_BYTE_COUNT	750170
+SHUFFLE	COPY_MAP_DATA	50303000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5124686
+SHUFFLE	COMPRESS_BYTE_COUNT	751485
+SHUFFLE	COPY_MAP_DATA	57064000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5121728
+SHUFFLE	COMPRESS_BYTE_COUNT	751542
+SHUFFLE	COPY_MAP_DATA	49959000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5139272
+SHUFFLE	COMPRESS_BYTE_COUNT	753956
+SHUFFLE	COPY_MAP_DATA	1631780000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5117648
+SHUFFLE	COMPRESS_BYTE_COUNT	750633
+SHUFFLE	COPY_MAP_DATA	48490000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5110610
+SHUFFLE	COMPRESS_BYTE_COUNT	749467
+SHUFFLE	COPY_MAP_DATA	591571000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5110814
+SHUFFLE	COMPRESS_BYTE_COUNT	749350
+SHUFFLE	COPY_MAP_DATA	180366000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5117342
+SHUFFLE	COMPRESS_BYTE_COUNT	750293
+SHUFFLE	COPY_MAP_DATA	61733000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5123258
+SHUFFLE	COMPRESS_BYTE_COUNT	751200
+SHUFFLE	COPY_MAP_DATA	122913000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5148860
+SHUFFLE	COMPRESS_BYTE_COUNT	755165
+SHUFFLE	COPY_MAP_DATA	101711000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5136416
+SHUFFLE	COMPRESS_BYTE_COUNT	753638
+SHUFFLE	COPY_MAP_DATA	5968522000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5091638
+SHUFFLE	COMPRESS_BYTE_COUNT	746820
+SHUFFLE	COPY_MAP_DATA	606989000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5107754
+SHUFFLE	COMPRESS_BYTE_COUNT	748725
+SHUFFLE	COPY_MAP_DATA	180123000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5124074
+SHUFFLE	COMPRESS_BYTE_COUNT	751193
+SHUFFLE	COPY_MAP_DATA	47868000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5122238
+SHUFFLE	COMPRESS_BYTE_COUNT	751300
+SHUFFLE	COPY_MAP_DATA	392739000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5167220
+SHUFFLE	COMPRESS_BYTE_COUNT	757675
+SHUFFLE	COPY_MAP_DATA	96209000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5117852
+SHUFFLE	COMPRESS_BYTE_COUNT	750778
+SHUFFLE	COPY_MAP_DATA	114231000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5096432
+SHUFFLE	COMPRESS_BYTE_COUNT	747548
+SHUFFLE	COPY_MAP_DATA	167220000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5171708
+SHUFFLE	COMPRESS_BYTE_COUNT	758612
+SHUFFLE	COPY_MAP_DATA	49707000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5121116
+SHUFFLE	COMPRESS_BYTE_COUNT	750991
+SHUFFLE	COPY_MAP_DATA	101994000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5143760
+SHUFFLE	COMPRESS_BYTE_COUNT	754253
+SHUFFLE	COPY_MAP_DATA	1927851000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5090210
+SHUFFLE	COMPRESS_BYTE_COUNT	746900
+SHUFFLE	COPY_MAP_DATA	57907000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5114078
+SHUFFLE	COMPRESS_BYTE_COUNT	750221
+SHUFFLE	COPY_MAP_DATA	1265142000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5154980
+SHUFFLE	COMPRESS_BYTE_COUNT	755588
+SHUFFLE	COPY_MAP_DATA	1506541000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5103368
+SHUFFLE	COMPRESS_BYTE_COUNT	748729
+SHUFFLE	COPY_MAP_DATA	95092000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5088782
+SHUFFLE	COMPRESS_BYTE_COUNT	746565
+SHUFFLE	COPY_MAP_DATA	261302000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5114180
+SHUFFLE	COMPRESS_BYTE_COUNT	749722
+SHUFFLE	COPY_MAP_DATA	142303000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5107958
+SHUFFLE	COMPRESS_BYTE_COUNT	749023
+SHUFFLE	COPY_MAP_DATA	47993000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5134478
+SHUFFLE	COMPRESS_BYTE_COUNT	753182
+SHUFFLE	COPY_MAP_DATA	510653000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5170382
+SHUFFLE	COMPRESS_BYTE_COUNT	758325
+SHUFFLE	COPY_MAP_DATA	139948000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5119994
+SHUFFLE	COMPRESS_BYTE_COUNT	750916
+SHUFFLE	COPY_MAP_DATA	825259000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5121218
+SHUFFLE	COMPRESS_BYTE_COUNT	751000
+SHUFFLE	COPY_MAP_DATA	6180911788
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5113058
+SHUFFLE	COMPRESS_BYTE_COUNT	749847
+SHUFFLE	COPY_MAP_DATA	50079000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5098982
+SHUFFLE	COMPRESS_BYTE_COUNT	747941
+SHUFFLE	COPY_MAP_DATA	63368000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5131622
+SHUFFLE	COMPRESS_BYTE_COUNT	752293
+SHUFFLE	COPY_MAP_DATA	71515000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5097452
+SHUFFLE	COMPRESS_BYTE_COUNT	747784
+SHUFFLE	COPY_MAP_DATA	2129671000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5095514
+SHUFFLE	COMPRESS_BYTE_COUNT	747262
+SHUFFLE	COPY_MAP_DATA	56570000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5116730
+SHUFFLE	COMPRESS_BYTE_COUNT	750705
+SHUFFLE	COPY_MAP_DATA	61333000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5134478
+SHUFFLE	COMPRESS_BYTE_COUNT	752851
+SHUFFLE	COPY_MAP_DATA	55456000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5107142
+SHUFFLE	COMPRESS_BYTE_COUNT	749305
+SHUFFLE	COPY_MAP_DATA	117878000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5100512
+SHUFFLE	COMPRESS_BYTE_COUNT	748182
+SHUFFLE	COPY_MAP_DATA	106922000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5117138
+SHUFFLE	COMPRESS_BYTE_COUNT	750560
+SHUFFLE	COPY_MAP_DATA	589167000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5085518
+SHUFFLE	COMPRESS_BYTE_COUNT	746297
+SHUFFLE	COPY_MAP_DATA	124157000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5108468
+SHUFFLE	COMPRESS_BYTE_COUNT	742243
+SHUFFLE	COPY_MAP_DATA	286932000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5097962
+SHUFFLE	COMPRESS_BYTE_COUNT	747296
+SHUFFLE	COPY_MAP_DATA	1793009000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5114486
+SHUFFLE	COMPRESS_BYTE_COUNT	750119
+SHUFFLE	COPY_MAP_DATA	184856000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5129072
+SHUFFLE	COMPRESS_BYTE_COUNT	752037
+SHUFFLE	COPY_MAP_DATA	89082000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5121320
+SHUFFLE	COMPRESS_BYTE_COUNT	751406
+SHUFFLE	COPY_MAP_DATA	48114000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5118362
+SHUFFLE	COMPRESS_BYTE_COUNT	751029
+SHUFFLE	COPY_MAP_DATA	1156804000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5138150
+SHUFFLE	COMPRESS_BYTE_COUNT	753119
+SHUFFLE	COPY_MAP_DATA	10626162000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5130398
+SHUFFLE	COMPRESS_BYTE_COUNT	752333
+SHUFFLE	COPY_MAP_DATA	261859000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5149574
+SHUFFLE	COMPRESS_BYTE_COUNT	755502
+SHUFFLE	COPY_MAP_DATA	93032000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5104286
+SHUFFLE	COMPRESS_BYTE_COUNT	748172
+SHUFFLE	COPY_MAP_DATA	393880000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5156000
+SHUFFLE	COMPRESS_BYTE_COUNT	755958
+SHUFFLE	COPY_MAP_DATA	207313000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1206356
+SHUFFLE	COMPRESS_BYTE_COUNT	175132
+SHUFFLE	COPY_MAP_DATA	359159000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5096126
+SHUFFLE	COMPRESS_BYTE_COUNT	747229
+SHUFFLE	COPY_MAP_DATA	60545000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1199624
+SHUFFLE	COMPRESS_BYTE_COUNT	174249
+SHUFFLE	COPY_MAP_DATA	12829000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5080928
+SHUFFLE	COMPRESS_BYTE_COUNT	745569
+SHUFFLE	COPY_MAP_DATA	78524000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5142434
+SHUFFLE	COMPRESS_BYTE_COUNT	753849
+SHUFFLE	COPY_MAP_DATA	247065000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5132030
+SHUFFLE	COMPRESS_BYTE_COUNT	752774
+SHUFFLE	COPY_MAP_DATA	5500661000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5156204
+SHUFFLE	COMPRESS_BYTE_COUNT	756344
+SHUFFLE	COPY_MAP_DATA	104365000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1203500
+SHUFFLE	COMPRESS_BYTE_COUNT	174791
+SHUFFLE	COPY_MAP_DATA	24638000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5130806
+SHUFFLE	COMPRESS_BYTE_COUNT	752705
+SHUFFLE	COPY_MAP_DATA	49147000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5074910
+SHUFFLE	COMPRESS_BYTE_COUNT	744491
+SHUFFLE	COPY_MAP_DATA	51070000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5131928
+SHUFFLE	COMPRESS_BYTE_COUNT	753201
+SHUFFLE	COPY_MAP_DATA	134284000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1231040
+SHUFFLE	COMPRESS_BYTE_COUNT	178546
+SHUFFLE	COPY_MAP_DATA	14111000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5132948
+SHUFFLE	COMPRESS_BYTE_COUNT	752607
+SHUFFLE	COPY_MAP_DATA	101046000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5142536
+SHUFFLE	COMPRESS_BYTE_COUNT	754506
+SHUFFLE	COPY_MAP_DATA	118602000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5081438
+SHUFFLE	COMPRESS_BYTE_COUNT	745277
+SHUFFLE	COPY_MAP_DATA	800690000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5122544
+SHUFFLE	COMPRESS_BYTE_COUNT	751261
+SHUFFLE	COPY_MAP_DATA	319282000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5129174
+SHUFFLE	COMPRESS_BYTE_COUNT	752434
+SHUFFLE	COPY_MAP_DATA	131744000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1204316
+SHUFFLE	COMPRESS_BYTE_COUNT	174717
+SHUFFLE	COPY_MAP_DATA	15356000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5117036
+SHUFFLE	COMPRESS_BYTE_COUNT	750229
+SHUFFLE	COPY_MAP_DATA	165828000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5061752
+SHUFFLE	COMPRESS_BYTE_COUNT	742272
+SHUFFLE	COPY_MAP_DATA	48031000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5103674
+SHUFFLE	COMPRESS_BYTE_COUNT	748749
+SHUFFLE	COPY_MAP_DATA	3009903000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5091434
+SHUFFLE	COMPRESS_BYTE_COUNT	746645
+SHUFFLE	COPY_MAP_DATA	832092000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5153246
+SHUFFLE	COMPRESS_BYTE_COUNT	756382
+SHUFFLE	COPY_MAP_DATA	2401905000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5127134
+SHUFFLE	COMPRESS_BYTE_COUNT	752158
+SHUFFLE	COPY_MAP_DATA	1654813000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5097962
+SHUFFLE	COMPRESS_BYTE_COUNT	747691
+SHUFFLE	COPY_MAP_DATA	766432000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5117852
+SHUFFLE	COMPRESS_BYTE_COUNT	750592
+SHUFFLE	COPY_MAP_DATA	509307000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1194932
+SHUFFLE	COMPRESS_BYTE_COUNT	173433
+SHUFFLE	COPY_MAP_DATA	239392000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5159468
+SHUFFLE	COMPRESS_BYTE_COUNT	756365
+SHUFFLE	COPY_MAP_DATA	9673932000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1199114
+SHUFFLE	COMPRESS_BYTE_COUNT	174111
+SHUFFLE	COPY_MAP_DATA	3985536000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1187078
+SHUFFLE	COMPRESS_BYTE_COUNT	172266
+SHUFFLE	COPY_MAP_DATA	12775000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5161508
+SHUFFLE	COMPRESS_BYTE_COUNT	756967
+SHUFFLE	COPY_MAP_DATA	76704000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5101022
+SHUFFLE	COMPRESS_BYTE_COUNT	748248
+SHUFFLE	COPY_MAP_DATA	76718000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5115710
+SHUFFLE	COMPRESS_BYTE_COUNT	750569
+SHUFFLE	COPY_MAP_DATA	48351000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5143862
+SHUFFLE	COMPRESS_BYTE_COUNT	754314
+SHUFFLE	COPY_MAP_DATA	52289000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1201664
+SHUFFLE	COMPRESS_BYTE_COUNT	174525
+SHUFFLE	COPY_MAP_DATA	13148000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5107958
+SHUFFLE	COMPRESS_BYTE_COUNT	749145
+SHUFFLE	COPY_MAP_DATA	156283000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5105714
+SHUFFLE	COMPRESS_BYTE_COUNT	749130
+SHUFFLE	COPY_MAP_DATA	4377600000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5124890
+SHUFFLE	COMPRESS_BYTE_COUNT	751315
+SHUFFLE	COPY_MAP_DATA	94513000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5142332
+SHUFFLE	COMPRESS_BYTE_COUNT	753735
+SHUFFLE	COPY_MAP_DATA	4640086000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5113772
+SHUFFLE	COMPRESS_BYTE_COUNT	750196
+SHUFFLE	COPY_MAP_DATA	3191775000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1196360
+SHUFFLE	COMPRESS_BYTE_COUNT	173685
+SHUFFLE	COPY_MAP_DATA	213283000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5111324
+SHUFFLE	COMPRESS_BYTE_COUNT	749987
+SHUFFLE	COPY_MAP_DATA	224617000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1202276
+SHUFFLE	COMPRESS_BYTE_COUNT	174569
+SHUFFLE	COPY_MAP_DATA	121474000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5067566
+SHUFFLE	COMPRESS_BYTE_COUNT	743539
+SHUFFLE	COPY_MAP_DATA	52892000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5151716
+SHUFFLE	COMPRESS_BYTE_COUNT	755486
+SHUFFLE	COPY_MAP_DATA	959626000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5131622
+SHUFFLE	COMPRESS_BYTE_COUNT	752500
+SHUFFLE	COPY_MAP_DATA	80798000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1206050
+SHUFFLE	COMPRESS_BYTE_COUNT	174985
+SHUFFLE	COPY_MAP_DATA	23163000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5132540
+SHUFFLE	COMPRESS_BYTE_COUNT	752565
+SHUFFLE	COPY_MAP_DATA	138256000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1199318
+SHUFFLE	COMPRESS_BYTE_COUNT	174133
+SHUFFLE	COPY_MAP_DATA	199984000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1212986
+SHUFFLE	COMPRESS_BYTE_COUNT	176101
+SHUFFLE	COPY_MAP_DATA	48070000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1196768
+SHUFFLE	COMPRESS_BYTE_COUNT	173821
+SHUFFLE	COPY_MAP_DATA	14060000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5129276
+SHUFFLE	COMPRESS_BYTE_COUNT	752593
+SHUFFLE	COPY_MAP_DATA	48963000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1211966
+SHUFFLE	COMPRESS_BYTE_COUNT	175839
+SHUFFLE	COPY_MAP_DATA	146072000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1206866
+SHUFFLE	COMPRESS_BYTE_COUNT	175281
+SHUFFLE	COPY_MAP_DATA	14519000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1216658
+SHUFFLE	COMPRESS_BYTE_COUNT	176579
+SHUFFLE	COPY_MAP_DATA	16714000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1223186
+SHUFFLE	COMPRESS_BYTE_COUNT	177565
+SHUFFLE	COPY_MAP_DATA	14436000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5113874
+SHUFFLE	COMPRESS_BYTE_COUNT	750556
+SHUFFLE	COPY_MAP_DATA	54983000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1211966
+SHUFFLE	COMPRESS_BYTE_COUNT	175860
+SHUFFLE	COPY_MAP_DATA	142008000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1191158
+SHUFFLE	COMPRESS_BYTE_COUNT	173034
+SHUFFLE	COPY_MAP_DATA	15831000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5129786
+SHUFFLE	COMPRESS_BYTE_COUNT	752139
+SHUFFLE	COPY_MAP_DATA	9456337000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5073482
+SHUFFLE	COMPRESS_BYTE_COUNT	744421
+SHUFFLE	COPY_MAP_DATA	62361000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1201460
+SHUFFLE	COMPRESS_BYTE_COUNT	174412
+SHUFFLE	COPY_MAP_DATA	17926000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5155490
+SHUFFLE	COMPRESS_BYTE_COUNT	755892
+SHUFFLE	COPY_MAP_DATA	60171000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1186058
+SHUFFLE	COMPRESS_BYTE_COUNT	172242
+SHUFFLE	COPY_MAP_DATA	18966000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5128358
+SHUFFLE	COMPRESS_BYTE_COUNT	752241
+SHUFFLE	COPY_MAP_DATA	56907000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5146820
+SHUFFLE	COMPRESS_BYTE_COUNT	755200
+SHUFFLE	COPY_MAP_DATA	61896000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1207478
+SHUFFLE	COMPRESS_BYTE_COUNT	175321
+SHUFFLE	COPY_MAP_DATA	28438000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1196870
+SHUFFLE	COMPRESS_BYTE_COUNT	173761
+SHUFFLE	COPY_MAP_DATA	17720000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1197992
+SHUFFLE	COMPRESS_BYTE_COUNT	173836
+SHUFFLE	COPY_MAP_DATA	16556000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1207784
+SHUFFLE	COMPRESS_BYTE_COUNT	175243
+SHUFFLE	COPY_MAP_DATA	14923000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5113160
+SHUFFLE	COMPRESS_BYTE_COUNT	750141
+SHUFFLE	COPY_MAP_DATA	107984000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5107958
+SHUFFLE	COMPRESS_BYTE_COUNT	748956
+SHUFFLE	COPY_MAP_DATA	344595000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1215026
+SHUFFLE	COMPRESS_BYTE_COUNT	176354
+SHUFFLE	COPY_MAP_DATA	17992000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1207274
+SHUFFLE	COMPRESS_BYTE_COUNT	175212
+SHUFFLE	COPY_MAP_DATA	141868000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1200644
+SHUFFLE	COMPRESS_BYTE_COUNT	174273
+SHUFFLE	COPY_MAP_DATA	257443000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1207886
+SHUFFLE	COMPRESS_BYTE_COUNT	175243
+SHUFFLE	COPY_MAP_DATA	15824000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1196054
+SHUFFLE	COMPRESS_BYTE_COUNT	173564
+SHUFFLE	COPY_MAP_DATA	3012717000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1194014
+SHUFFLE	COMPRESS_BYTE_COUNT	173457
+SHUFFLE	COPY_MAP_DATA	13377000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1202582
+SHUFFLE	COMPRESS_BYTE_COUNT	174667
+SHUFFLE	COPY_MAP_DATA	35229000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5109692
+SHUFFLE	COMPRESS_BYTE_COUNT	749203
+SHUFFLE	COPY_MAP_DATA	400060000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1195442
+SHUFFLE	COMPRESS_BYTE_COUNT	173607
+SHUFFLE	COPY_MAP_DATA	248713000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1188812
+SHUFFLE	COMPRESS_BYTE_COUNT	172743
+SHUFFLE	COPY_MAP_DATA	949369000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1205846
+SHUFFLE	COMPRESS_BYTE_COUNT	175188
+SHUFFLE	COPY_MAP_DATA	95862000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5120198
+SHUFFLE	COMPRESS_BYTE_COUNT	750884
+SHUFFLE	COPY_MAP_DATA	153311000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1192382
+SHUFFLE	COMPRESS_BYTE_COUNT	173246
+SHUFFLE	COPY_MAP_DATA	60643000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5171402
+SHUFFLE	COMPRESS_BYTE_COUNT	758533
+SHUFFLE	COPY_MAP_DATA	3741019000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1200848
+SHUFFLE	COMPRESS_BYTE_COUNT	174311
+SHUFFLE	COPY_MAP_DATA	15948000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5121320
+SHUFFLE	COMPRESS_BYTE_COUNT	751340
+SHUFFLE	COPY_MAP_DATA	136405000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1211456
+SHUFFLE	COMPRESS_BYTE_COUNT	175915
+SHUFFLE	COPY_MAP_DATA	11950000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1199828
+SHUFFLE	COMPRESS_BYTE_COUNT	174149
+SHUFFLE	COPY_MAP_DATA	13679000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1199420
+SHUFFLE	COMPRESS_BYTE_COUNT	174152
+SHUFFLE	COPY_MAP_DATA	14915000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1184936
+SHUFFLE	COMPRESS_BYTE_COUNT	172124
+SHUFFLE	COPY_MAP_DATA	13093000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1189526
+SHUFFLE	COMPRESS_BYTE_COUNT	172705
+SHUFFLE	COPY_MAP_DATA	15742000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1198094
+SHUFFLE	COMPRESS_BYTE_COUNT	174045
+SHUFFLE	COPY_MAP_DATA	16391000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1191362
+SHUFFLE	COMPRESS_BYTE_COUNT	173031
+SHUFFLE	COPY_MAP_DATA	3245514000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5113976
+SHUFFLE	COMPRESS_BYTE_COUNT	749948
+SHUFFLE	COPY_MAP_DATA	999327000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5163242
+SHUFFLE	COMPRESS_BYTE_COUNT	757449
+SHUFFLE	COPY_MAP_DATA	52041000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1214618
+SHUFFLE	COMPRESS_BYTE_COUNT	176224
+SHUFFLE	COPY_MAP_DATA	15229000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1200950
+SHUFFLE	COMPRESS_BYTE_COUNT	174418
+SHUFFLE	COPY_MAP_DATA	14209000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1193810
+SHUFFLE	COMPRESS_BYTE_COUNT	173357
+SHUFFLE	COPY_MAP_DATA	12434000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1194422
+SHUFFLE	COMPRESS_BYTE_COUNT	173513
+SHUFFLE	COPY_MAP_DATA	12830000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1197992
+SHUFFLE	COMPRESS_BYTE_COUNT	173840
+SHUFFLE	COPY_MAP_DATA	14029000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5146718
+SHUFFLE	COMPRESS_BYTE_COUNT	754292
+SHUFFLE	COPY_MAP_DATA	8130416000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5082764
+SHUFFLE	COMPRESS_BYTE_COUNT	745792
+SHUFFLE	COPY_MAP_DATA	120208000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5130500
+SHUFFLE	COMPRESS_BYTE_COUNT	752156
+SHUFFLE	COPY_MAP_DATA	65808000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1206968
+SHUFFLE	COMPRESS_BYTE_COUNT	175255
+SHUFFLE	COPY_MAP_DATA	19931000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1199216
+SHUFFLE	COMPRESS_BYTE_COUNT	173988
+SHUFFLE	COPY_MAP_DATA	23084000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1213088
+SHUFFLE	COMPRESS_BYTE_COUNT	175973
+SHUFFLE	COPY_MAP_DATA	13758000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1198298
+SHUFFLE	COMPRESS_BYTE_COUNT	173870
+SHUFFLE	COPY_MAP_DATA	18647000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5077766
+SHUFFLE	COMPRESS_BYTE_COUNT	744548
+SHUFFLE	COPY_MAP_DATA	149682000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1217372
+SHUFFLE	COMPRESS_BYTE_COUNT	176746
+SHUFFLE	COPY_MAP_DATA	14456000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1192586
+SHUFFLE	COMPRESS_BYTE_COUNT	173302
+SHUFFLE	COPY_MAP_DATA	13401000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1188914
+SHUFFLE	COMPRESS_BYTE_COUNT	172573
+SHUFFLE	COPY_MAP_DATA	20250000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1208804
+SHUFFLE	COMPRESS_BYTE_COUNT	175526
+SHUFFLE	COPY_MAP_DATA	13621000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1207274
+SHUFFLE	COMPRESS_BYTE_COUNT	175101
+SHUFFLE	COPY_MAP_DATA	14245000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1218800
+SHUFFLE	COMPRESS_BYTE_COUNT	176889
+SHUFFLE	COPY_MAP_DATA	27189000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1207274
+SHUFFLE	COMPRESS_BYTE_COUNT	175229
+SHUFFLE	COPY_MAP_DATA	13967000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1209314
+SHUFFLE	COMPRESS_BYTE_COUNT	175626
+SHUFFLE	COPY_MAP_DATA	451019000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1201970
+SHUFFLE	COMPRESS_BYTE_COUNT	174486
+SHUFFLE	COPY_MAP_DATA	13783000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1206152
+SHUFFLE	COMPRESS_BYTE_COUNT	175100
+SHUFFLE	COPY_MAP_DATA	12099000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1191974
+SHUFFLE	COMPRESS_BYTE_COUNT	173130
+SHUFFLE	COPY_MAP_DATA	66466000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1196768
+SHUFFLE	COMPRESS_BYTE_COUNT	173794
+SHUFFLE	COPY_MAP_DATA	13284000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1204622
+SHUFFLE	COMPRESS_BYTE_COUNT	174835
+SHUFFLE	COPY_MAP_DATA	14047000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1200746
+SHUFFLE	COMPRESS_BYTE_COUNT	174396
+SHUFFLE	COPY_MAP_DATA	16779000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1203500
+SHUFFLE	COMPRESS_BYTE_COUNT	174695
+SHUFFLE	COPY_MAP_DATA	13450000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1216148
+SHUFFLE	COMPRESS_BYTE_COUNT	176600
+SHUFFLE	COPY_MAP_DATA	43700000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1206458
+SHUFFLE	COMPRESS_BYTE_COUNT	175094
+SHUFFLE	COPY_MAP_DATA	34009000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1207376
+SHUFFLE	COMPRESS_BYTE_COUNT	175280
+SHUFFLE	COPY_MAP_DATA	13154000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1212986
+SHUFFLE	COMPRESS_BYTE_COUNT	175980
+SHUFFLE	COPY_MAP_DATA	17592000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1205540
+SHUFFLE	COMPRESS_BYTE_COUNT	175056
+SHUFFLE	COPY_MAP_DATA	11699000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1216556
+SHUFFLE	COMPRESS_BYTE_COUNT	176687
+SHUFFLE	COPY_MAP_DATA	14400000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1219412
+SHUFFLE	COMPRESS_BYTE_COUNT	176932
+SHUFFLE	COPY_MAP_DATA	29452000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1206866
+SHUFFLE	COMPRESS_BYTE_COUNT	175155
+SHUFFLE	COPY_MAP_DATA	157008000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1205948
+SHUFFLE	COMPRESS_BYTE_COUNT	175051
+SHUFFLE	COPY_MAP_DATA	558511000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1208192
+SHUFFLE	COMPRESS_BYTE_COUNT	175393
+SHUFFLE	COPY_MAP_DATA	13054000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1207478
+SHUFFLE	COMPRESS_BYTE_COUNT	175212
+SHUFFLE	COPY_MAP_DATA	12274000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1202378
+SHUFFLE	COMPRESS_BYTE_COUNT	174541
+SHUFFLE	COPY_MAP_DATA	120025000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1196972
+SHUFFLE	COMPRESS_BYTE_COUNT	173777
+SHUFFLE	COPY_MAP_DATA	12764000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1194728
+SHUFFLE	COMPRESS_BYTE_COUNT	173543
+SHUFFLE	COPY_MAP_DATA	68729000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1208498
+SHUFFLE	COMPRESS_BYTE_COUNT	175431
+SHUFFLE	COPY_MAP_DATA	473053000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1222064
+SHUFFLE	COMPRESS_BYTE_COUNT	177372
+SHUFFLE	COPY_MAP_DATA	14747000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1204622
+SHUFFLE	COMPRESS_BYTE_COUNT	175037
+SHUFFLE	COPY_MAP_DATA	15138000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1187792
+SHUFFLE	COMPRESS_BYTE_COUNT	172412
+SHUFFLE	COPY_MAP_DATA	12554000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1198298
+SHUFFLE	COMPRESS_BYTE_COUNT	174005
+SHUFFLE	COPY_MAP_DATA	17345000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1213190
+SHUFFLE	COMPRESS_BYTE_COUNT	176171
+SHUFFLE	COPY_MAP_DATA	132510000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1198298
+SHUFFLE	COMPRESS_BYTE_COUNT	173999
+SHUFFLE	COPY_MAP_DATA	17370000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1207580
+SHUFFLE	COMPRESS_BYTE_COUNT	175157
+SHUFFLE	COPY_MAP_DATA	13520000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1202888
+SHUFFLE	COMPRESS_BYTE_COUNT	174598
+SHUFFLE	COPY_MAP_DATA	1518821000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1201562
+SHUFFLE	COMPRESS_BYTE_COUNT	174457
+SHUFFLE	COPY_MAP_DATA	478431000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1217372
+SHUFFLE	COMPRESS_BYTE_COUNT	176647
+SHUFFLE	COPY_MAP_DATA	172161000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1216046
+SHUFFLE	COMPRESS_BYTE_COUNT	176450
+SHUFFLE	COPY_MAP_DATA	14289000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1197380
+SHUFFLE	COMPRESS_BYTE_COUNT	173791
+SHUFFLE	COPY_MAP_DATA	14228000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1204214
+SHUFFLE	COMPRESS_BYTE_COUNT	174861
+SHUFFLE	COPY_MAP_DATA	93288000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1216658
+SHUFFLE	COMPRESS_BYTE_COUNT	176467
+SHUFFLE	COPY_MAP_DATA	16399000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1184732
+SHUFFLE	COMPRESS_BYTE_COUNT	172108
+SHUFFLE	COPY_MAP_DATA	23497000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	296264996000
+MERGE	READ_WRITE	286067815000
+MERGE	READ_WRITE_COUNT	8
+MERGE	COMBINE	0
+MERGE	WRITE	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	503037000
+SORT	READ_WRITE	430127000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	211244160
+REDUCE	SETUP	363000
+REDUCE	SETUP_MEM	211244160
+REDUCE	CLEANUP	37000
+REDUCE	CLEANUP_MEM	140507440
+REDUCE	TOTAL_RUN	176574862000
+REDUCE	READ	24564861000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	92138101000
+REDUCE	WRITE	36657100000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	112204380
+REDUCE	VALUE_BYTE_COUNT	987398544
+REDUCE	REDUCE_MEM	140507440
+REDUCE	WRITE	3627000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	719595423788
@@ -0,0 +1,1229 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5196596
+SHUFFLE	COMPRESS_BYTE_COUNT	762362
+SHUFFLE	COPY_MAP_DATA	69109000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5199248
+SHUFFLE	COMPRESS_BYTE_COUNT	762481
+SHUFFLE	COPY_MAP_DATA	73032000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5208530
+SHUFFLE	COMPRESS_BYTE_COUNT	764340
+SHUFFLE	COPY_MAP_DATA	151527000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5199146
+SHUFFLE	COMPRESS_BYTE_COUNT	762487
+SHUFFLE	COPY_MAP_DATA	77451000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5228828
+SHUFFLE	COMPRESS_BYTE_COUNT	767114
+SHUFFLE	COPY_MAP_DATA	157851000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5215772
+SHUFFLE	COMPRESS_BYTE_COUNT	765071
+SHUFFLE	COPY_MAP_DATA	50968000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5195780
+SHUFFLE	COMPRESS_BYTE_COUNT	762155
+SHUFFLE	COPY_MAP_DATA	75357000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5207612
+SHUFFLE	COMPRESS_BYTE_COUNT	764116
+SHUFFLE	COPY_MAP_DATA	52621000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5178440
+SHUFFLE	COMPRESS_BYTE_COUNT	759924
+SHUFFLE	COPY_MAP_DATA	124958000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5191088
+SHUFFLE	COMPRESS_BYTE_COUNT	760718
+SHUFFLE	COPY_MAP_DATA	47991000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5187722
+SHUFFLE	COMPRESS_BYTE_COUNT	761411
+SHUFFLE	COPY_MAP_DATA	49618000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5193842
+SHUFFLE	COMPRESS_BYTE_COUNT	762000
+SHUFFLE	COPY_MAP_DATA	104949000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5196902
+SHUFFLE	COMPRESS_BYTE_COUNT	762015
+SHUFFLE	COPY_MAP_DATA	171166000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5203430
+SHUFFLE	COMPRESS_BYTE_COUNT	763091
+SHUFFLE	COPY_MAP_DATA	78751000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5233316
+SHUFFLE	COMPRESS_BYTE_COUNT	768026
+SHUFFLE	COPY_MAP_DATA	305426000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5201492
+SHUFFLE	COMPRESS_BYTE_COUNT	763331
+SHUFFLE	COPY_MAP_DATA	69376000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5186702
+SHUFFLE	COMPRESS_BYTE_COUNT	760348
+SHUFFLE	COPY_MAP_DATA	45249000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5190884
+SHUFFLE	COMPRESS_BYTE_COUNT	761704
+SHUFFLE	COPY_MAP_DATA	1143395000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5163548
+SHUFFLE	COMPRESS_BYTE_COUNT	757334
+SHUFFLE	COPY_MAP_DATA	296866000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5151920
+SHUFFLE	COMPRESS_BYTE_COUNT	755848
+SHUFFLE	COPY_MAP_DATA	105249000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5196902
+SHUFFLE	COMPRESS_BYTE_COUNT	762533
+SHUFFLE	COPY_MAP_DATA	221717000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5181908
+SHUFFLE	COMPRESS_BYTE_COUNT	760345
+SHUFFLE	COPY_MAP_DATA	66930000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5208428
+SHUFFLE	COMPRESS_BYTE_COUNT	764150
+SHUFFLE	COPY_MAP_DATA	45844000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5217710
+SHUFFLE	COMPRESS_BYTE_COUNT	765499
+SHUFFLE	COPY_MAP_DATA	371974000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5175482
+SHUFFLE	COMPRESS_BYTE_COUNT	759619
+SHUFFLE	COPY_MAP_DATA	46857000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5218730
+SHUFFLE	COMPRESS_BYTE_COUNT	765756
+SHUFFLE	COPY_MAP_DATA	117213000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5188130
+SHUFFLE	COMPRESS_BYTE_COUNT	760970
+SHUFFLE	COPY_MAP_DATA	48044000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5184458
+SHUFFLE	COMPRESS_BYTE_COUNT	760534
+SHUFFLE	COPY_MAP_DATA	280882000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5205878
+SHUFFLE	COMPRESS_BYTE_COUNT	763809
+SHUFFLE	COPY_MAP_DATA	1886874000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5212814
+SHUFFLE	COMPRESS_BYTE_COUNT	764401
+SHUFFLE	COPY_MAP_DATA	301134000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5226176
+SHUFFLE	COMPRESS_BYTE_COUNT	766706
+SHUFFLE	COPY_MAP_DATA	48474000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5192618
+SHUFFLE	COMPRESS_BYTE_COUNT	761934
+SHUFFLE	COPY_MAP_DATA	46072000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5254940
+SHUFFLE	COMPRESS_BYTE_COUNT	770732
+SHUFFLE	COPY_MAP_DATA	46760000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5232092
+SHUFFLE	COMPRESS_BYTE_COUNT	767196
+SHUFFLE	COPY_MAP_DATA	51414000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5175278
+SHUFFLE	COMPRESS_BYTE_COUNT	759646
+SHUFFLE	COPY_MAP_DATA	188409000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5229542
+SHUFFLE	COMPRESS_BYTE_COUNT	767103
+SHUFFLE	COPY_MAP_DATA	58229000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5157836
+SHUFFLE	COMPRESS_BYTE_COUNT	756555
+SHUFFLE	COPY_MAP_DATA	47833000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5200472
+SHUFFLE	COMPRESS_BYTE_COUNT	762888
+SHUFFLE	COPY_MAP_DATA	155948000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5206286
+SHUFFLE	COMPRESS_BYTE_COUNT	763784
+SHUFFLE	COPY_MAP_DATA	63846000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5215976
+SHUFFLE	COMPRESS_BYTE_COUNT	764714
+SHUFFLE	COPY_MAP_DATA	510119000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5215364
+SHUFFLE	COMPRESS_BYTE_COUNT	765040
+SHUFFLE	COPY_MAP_DATA	49795000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5202410
+SHUFFLE	COMPRESS_BYTE_COUNT	763004
+SHUFFLE	COPY_MAP_DATA	226515000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5187518
+SHUFFLE	COMPRESS_BYTE_COUNT	760812
+SHUFFLE	COPY_MAP_DATA	207125000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5170688
+SHUFFLE	COMPRESS_BYTE_COUNT	758949
+SHUFFLE	COPY_MAP_DATA	56298000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5165792
+SHUFFLE	COMPRESS_BYTE_COUNT	758097
+SHUFFLE	COPY_MAP_DATA	2433596000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5191292
+SHUFFLE	COMPRESS_BYTE_COUNT	761556
+SHUFFLE	COPY_MAP_DATA	90240000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5198126
+SHUFFLE	COMPRESS_BYTE_COUNT	762683
+SHUFFLE	COPY_MAP_DATA	98295000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5185784
+SHUFFLE	COMPRESS_BYTE_COUNT	760737
+SHUFFLE	COPY_MAP_DATA	2952910000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5239538
+SHUFFLE	COMPRESS_BYTE_COUNT	768446
+SHUFFLE	COPY_MAP_DATA	74057000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5238416
+SHUFFLE	COMPRESS_BYTE_COUNT	768523
+SHUFFLE	COPY_MAP_DATA	72876000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5181398
+SHUFFLE	COMPRESS_BYTE_COUNT	760272
+SHUFFLE	COPY_MAP_DATA	74173000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5165792
+SHUFFLE	COMPRESS_BYTE_COUNT	757742
+SHUFFLE	COPY_MAP_DATA	48791000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5204858
+SHUFFLE	COMPRESS_BYTE_COUNT	763569
+SHUFFLE	COPY_MAP_DATA	47063000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5176910
+SHUFFLE	COMPRESS_BYTE_COUNT	759191
+SHUFFLE	COPY_MAP_DATA	196108000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5188946
+SHUFFLE	COMPRESS_BYTE_COUNT	761100
+SHUFFLE	COPY_MAP_DATA	88256000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5235662
+SHUFFLE	COMPRESS_BYTE_COUNT	768181
+SHUFFLE	COPY_MAP_DATA	111033000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5238518
+SHUFFLE	COMPRESS_BYTE_COUNT	763935
+SHUFFLE	COPY_MAP_DATA	56485000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5196392
+SHUFFLE	COMPRESS_BYTE_COUNT	762192
+SHUFFLE	COPY_MAP_DATA	69917000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5177624
+SHUFFLE	COMPRESS_BYTE_COUNT	759274
+SHUFFLE	COPY_MAP_DATA	179713000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5194658
+SHUFFLE	COMPRESS_BYTE_COUNT	761846
+SHUFFLE	COPY_MAP_DATA	208446000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5185784
+SHUFFLE	COMPRESS_BYTE_COUNT	760819
+SHUFFLE	COPY_MAP_DATA	84266000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5212916
+SHUFFLE	COMPRESS_BYTE_COUNT	765052
+SHUFFLE	COPY_MAP_DATA	51532000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5192618
+SHUFFLE	COMPRESS_BYTE_COUNT	761578
+SHUFFLE	COPY_MAP_DATA	45069000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5199656
+SHUFFLE	COMPRESS_BYTE_COUNT	762876
+SHUFFLE	COPY_MAP_DATA	58429000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5184866
+SHUFFLE	COMPRESS_BYTE_COUNT	760435
+SHUFFLE	COPY_MAP_DATA	51845000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5223116
+SHUFFLE	COMPRESS_BYTE_COUNT	766248
+SHUFFLE	COPY_MAP_DATA	90598000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5218016
+SHUFFLE	COMPRESS_BYTE_COUNT	765681
+SHUFFLE	COPY_MAP_DATA	56723000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5180378
+SHUFFLE	COMPRESS_BYTE_COUNT	759952
+SHUFFLE	COPY_MAP_DATA	47051000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5174564
+SHUFFLE	COMPRESS_BYTE_COUNT	759334
+SHUFFLE	COPY_MAP_DATA	766272000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5213222
+SHUFFLE	COMPRESS_BYTE_COUNT	764705
+SHUFFLE	COPY_MAP_DATA	366555000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5190068
+SHUFFLE	COMPRESS_BYTE_COUNT	761533
+SHUFFLE	COPY_MAP_DATA	76884000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5230868
+SHUFFLE	COMPRESS_BYTE_COUNT	767559
+SHUFFLE	COPY_MAP_DATA	4605799000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5206796
+SHUFFLE	COMPRESS_BYTE_COUNT	763425
+SHUFFLE	COPY_MAP_DATA	48536000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5201390
+SHUFFLE	COMPRESS_BYTE_COUNT	762791
+SHUFFLE	COPY_MAP_DATA	49650000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5218220
+SHUFFLE	COMPRESS_BYTE_COUNT	765810
+SHUFFLE	COPY_MAP_DATA	3387620000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5191598
+SHUFFLE	COMPRESS_BYTE_COUNT	761437
+SHUFFLE	COPY_MAP_DATA	2876580000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5179358
+SHUFFLE	COMPRESS_BYTE_COUNT	760067
+SHUFFLE	COPY_MAP_DATA	64561000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5187926
+SHUFFLE	COMPRESS_BYTE_COUNT	761467
+SHUFFLE	COPY_MAP_DATA	47460000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5197922
+SHUFFLE	COMPRESS_BYTE_COUNT	762263
+SHUFFLE	COPY_MAP_DATA	46995000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5185886
+SHUFFLE	COMPRESS_BYTE_COUNT	760958
+SHUFFLE	COPY_MAP_DATA	282237000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5209550
+SHUFFLE	COMPRESS_BYTE_COUNT	764469
+SHUFFLE	COPY_MAP_DATA	64707000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5208836
+SHUFFLE	COMPRESS_BYTE_COUNT	763990
+SHUFFLE	COPY_MAP_DATA	100833000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5178542
+SHUFFLE	COMPRESS_BYTE_COUNT	759815
+SHUFFLE	COPY_MAP_DATA	8259177000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5186600
+SHUFFLE	COMPRESS_BYTE_COUNT	760566
+SHUFFLE	COPY_MAP_DATA	979849000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5204042
+SHUFFLE	COMPRESS_BYTE_COUNT	763726
+SHUFFLE	COPY_MAP_DATA	15045018000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5229950
+SHUFFLE	COMPRESS_BYTE_COUNT	766974
+SHUFFLE	COPY_MAP_DATA	1947980000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5189456
+SHUFFLE	COMPRESS_BYTE_COUNT	761223
+SHUFFLE	COPY_MAP_DATA	43508000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5205878
+SHUFFLE	COMPRESS_BYTE_COUNT	763547
+SHUFFLE	COPY_MAP_DATA	55262000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5161304
+SHUFFLE	COMPRESS_BYTE_COUNT	757015
+SHUFFLE	COPY_MAP_DATA	44017000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5192210
+SHUFFLE	COMPRESS_BYTE_COUNT	761843
+SHUFFLE	COPY_MAP_DATA	889156000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5174870
+SHUFFLE	COMPRESS_BYTE_COUNT	759193
+SHUFFLE	COPY_MAP_DATA	1143962000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5199452
+SHUFFLE	COMPRESS_BYTE_COUNT	762881
+SHUFFLE	COPY_MAP_DATA	50282000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5207510
+SHUFFLE	COMPRESS_BYTE_COUNT	763669
+SHUFFLE	COPY_MAP_DATA	195981000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5205674
+SHUFFLE	COMPRESS_BYTE_COUNT	763542
+SHUFFLE	COPY_MAP_DATA	66026000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5174156
+SHUFFLE	COMPRESS_BYTE_COUNT	759138
+SHUFFLE	COPY_MAP_DATA	112074000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5199962
+SHUFFLE	COMPRESS_BYTE_COUNT	763262
+SHUFFLE	COPY_MAP_DATA	45088000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5214344
+SHUFFLE	COMPRESS_BYTE_COUNT	764925
+SHUFFLE	COPY_MAP_DATA	90008000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5191190
+SHUFFLE	COMPRESS_BYTE_COUNT	761525
+SHUFFLE	COPY_MAP_DATA	1411916000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5205164
+SHUFFLE	COMPRESS_BYTE_COUNT	763055
+SHUFFLE	COPY_MAP_DATA	1297298000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5225462
+SHUFFLE	COMPRESS_BYTE_COUNT	766376
+SHUFFLE	COPY_MAP_DATA	46502000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5189252
+SHUFFLE	COMPRESS_BYTE_COUNT	761434
+SHUFFLE	COPY_MAP_DATA	143302000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5185784
+SHUFFLE	COMPRESS_BYTE_COUNT	760882
+SHUFFLE	COPY_MAP_DATA	3203500000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5185274
+SHUFFLE	COMPRESS_BYTE_COUNT	760815
+SHUFFLE	COPY_MAP_DATA	108703000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5186090
+SHUFFLE	COMPRESS_BYTE_COUNT	760741
+SHUFFLE	COPY_MAP_DATA	223427000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5176400
+SHUFFLE	COMPRESS_BYTE_COUNT	759755
+SHUFFLE	COPY_MAP_DATA	557242000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5220770
+SHUFFLE	COMPRESS_BYTE_COUNT	765834
+SHUFFLE	COPY_MAP_DATA	1385543000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5197106
+SHUFFLE	COMPRESS_BYTE_COUNT	762333
+SHUFFLE	COPY_MAP_DATA	201350000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5191292
+SHUFFLE	COMPRESS_BYTE_COUNT	761397
+SHUFFLE	COPY_MAP_DATA	89236000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5178542
+SHUFFLE	COMPRESS_BYTE_COUNT	759292
+SHUFFLE	COPY_MAP_DATA	45665000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5199962
+SHUFFLE	COMPRESS_BYTE_COUNT	762947
+SHUFFLE	COPY_MAP_DATA	315106000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5177828
+SHUFFLE	COMPRESS_BYTE_COUNT	759411
+SHUFFLE	COPY_MAP_DATA	1513648000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5209448
+SHUFFLE	COMPRESS_BYTE_COUNT	764090
+SHUFFLE	COPY_MAP_DATA	54097000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5180888
+SHUFFLE	COMPRESS_BYTE_COUNT	760416
+SHUFFLE	COPY_MAP_DATA	45694000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5225768
+SHUFFLE	COMPRESS_BYTE_COUNT	766846
+SHUFFLE	COPY_MAP_DATA	414259000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5203634
+SHUFFLE	COMPRESS_BYTE_COUNT	763123
+SHUFFLE	COPY_MAP_DATA	44605000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5194250
+SHUFFLE	COMPRESS_BYTE_COUNT	762514
+SHUFFLE	COPY_MAP_DATA	67597000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5190578
+SHUFFLE	COMPRESS_BYTE_COUNT	761331
+SHUFFLE	COPY_MAP_DATA	56233000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5194760
+SHUFFLE	COMPRESS_BYTE_COUNT	762059
+SHUFFLE	COPY_MAP_DATA	47031000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5217404
+SHUFFLE	COMPRESS_BYTE_COUNT	765569
+SHUFFLE	COPY_MAP_DATA	47093000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5212712
+SHUFFLE	COMPRESS_BYTE_COUNT	764887
+SHUFFLE	COPY_MAP_DATA	46799000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5233826
+SHUFFLE	COMPRESS_BYTE_COUNT	767937
+SHUFFLE	COPY_MAP_DATA	1777304000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5184152
+SHUFFLE	COMPRESS_BYTE_COUNT	760582
+SHUFFLE	COPY_MAP_DATA	1398600000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5196290
+SHUFFLE	COMPRESS_BYTE_COUNT	762357
+SHUFFLE	COPY_MAP_DATA	5289394000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5186192
+SHUFFLE	COMPRESS_BYTE_COUNT	760558
+SHUFFLE	COPY_MAP_DATA	45882000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5231888
+SHUFFLE	COMPRESS_BYTE_COUNT	767335
+SHUFFLE	COPY_MAP_DATA	46069000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5173340
+SHUFFLE	COMPRESS_BYTE_COUNT	759037
+SHUFFLE	COPY_MAP_DATA	45789000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5213732
+SHUFFLE	COMPRESS_BYTE_COUNT	765025
+SHUFFLE	COPY_MAP_DATA	87454000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5224544
+SHUFFLE	COMPRESS_BYTE_COUNT	766352
+SHUFFLE	COPY_MAP_DATA	155907000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5183030
+SHUFFLE	COMPRESS_BYTE_COUNT	760195
+SHUFFLE	COPY_MAP_DATA	1344145000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5182112
+SHUFFLE	COMPRESS_BYTE_COUNT	760407
+SHUFFLE	COPY_MAP_DATA	501656000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5185070
+SHUFFLE	COMPRESS_BYTE_COUNT	761014
+SHUFFLE	COPY_MAP_DATA	97176000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5156612
+SHUFFLE	COMPRESS_BYTE_COUNT	756643
+SHUFFLE	COPY_MAP_DATA	1174431000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5222912
+SHUFFLE	COMPRESS_BYTE_COUNT	766411
+SHUFFLE	COPY_MAP_DATA	62171000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5163446
+SHUFFLE	COMPRESS_BYTE_COUNT	757418
+SHUFFLE	COPY_MAP_DATA	44060000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5173034
+SHUFFLE	COMPRESS_BYTE_COUNT	758683
+SHUFFLE	COPY_MAP_DATA	63694000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5218016
+SHUFFLE	COMPRESS_BYTE_COUNT	757816
+SHUFFLE	COPY_MAP_DATA	43377000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5199248
+SHUFFLE	COMPRESS_BYTE_COUNT	762100
+SHUFFLE	COPY_MAP_DATA	241886000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5177828
+SHUFFLE	COMPRESS_BYTE_COUNT	759320
+SHUFFLE	COPY_MAP_DATA	642932000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5235560
+SHUFFLE	COMPRESS_BYTE_COUNT	767696
+SHUFFLE	COPY_MAP_DATA	68120000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5182622
+SHUFFLE	COMPRESS_BYTE_COUNT	760679
+SHUFFLE	COPY_MAP_DATA	51762000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5197514
+SHUFFLE	COMPRESS_BYTE_COUNT	762552
+SHUFFLE	COPY_MAP_DATA	3160907000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5220056
+SHUFFLE	COMPRESS_BYTE_COUNT	765315
+SHUFFLE	COPY_MAP_DATA	602157000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5207102
+SHUFFLE	COMPRESS_BYTE_COUNT	763595
+SHUFFLE	COPY_MAP_DATA	45638000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1215332
+SHUFFLE	COMPRESS_BYTE_COUNT	176498
+SHUFFLE	COPY_MAP_DATA	11995000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5193740
+SHUFFLE	COMPRESS_BYTE_COUNT	761791
+SHUFFLE	COPY_MAP_DATA	595184000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5192720
+SHUFFLE	COMPRESS_BYTE_COUNT	761691
+SHUFFLE	COPY_MAP_DATA	414837000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5189456
+SHUFFLE	COMPRESS_BYTE_COUNT	761123
+SHUFFLE	COPY_MAP_DATA	725881000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5209244
+SHUFFLE	COMPRESS_BYTE_COUNT	764402
+SHUFFLE	COPY_MAP_DATA	47482000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5197412
+SHUFFLE	COMPRESS_BYTE_COUNT	762672
+SHUFFLE	COPY_MAP_DATA	46365000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5172320
+SHUFFLE	COMPRESS_BYTE_COUNT	759216
+SHUFFLE	COPY_MAP_DATA	76528000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1239302
+SHUFFLE	COMPRESS_BYTE_COUNT	180019
+SHUFFLE	COPY_MAP_DATA	14542000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5184050
+SHUFFLE	COMPRESS_BYTE_COUNT	760265
+SHUFFLE	COPY_MAP_DATA	46017000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1227062
+SHUFFLE	COMPRESS_BYTE_COUNT	178285
+SHUFFLE	COPY_MAP_DATA	647468000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5216384
+SHUFFLE	COMPRESS_BYTE_COUNT	765802
+SHUFFLE	COPY_MAP_DATA	7285334000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5221586
+SHUFFLE	COMPRESS_BYTE_COUNT	766086
+SHUFFLE	COPY_MAP_DATA	137205000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5231072
+SHUFFLE	COMPRESS_BYTE_COUNT	767542
+SHUFFLE	COPY_MAP_DATA	122472000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5206388
+SHUFFLE	COMPRESS_BYTE_COUNT	763565
+SHUFFLE	COPY_MAP_DATA	349463000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1244708
+SHUFFLE	COMPRESS_BYTE_COUNT	180776
+SHUFFLE	COPY_MAP_DATA	29926000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5176298
+SHUFFLE	COMPRESS_BYTE_COUNT	759637
+SHUFFLE	COPY_MAP_DATA	236531000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5202818
+SHUFFLE	COMPRESS_BYTE_COUNT	763072
+SHUFFLE	COPY_MAP_DATA	93848000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1213700
+SHUFFLE	COMPRESS_BYTE_COUNT	176065
+SHUFFLE	COPY_MAP_DATA	18840000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5227196
+SHUFFLE	COMPRESS_BYTE_COUNT	766836
+SHUFFLE	COPY_MAP_DATA	46499000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5189864
+SHUFFLE	COMPRESS_BYTE_COUNT	761069
+SHUFFLE	COPY_MAP_DATA	331615000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5203634
+SHUFFLE	COMPRESS_BYTE_COUNT	763012
+SHUFFLE	COPY_MAP_DATA	52529000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5205470
+SHUFFLE	COMPRESS_BYTE_COUNT	763946
+SHUFFLE	COPY_MAP_DATA	54616000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5217098
+SHUFFLE	COMPRESS_BYTE_COUNT	764838
+SHUFFLE	COPY_MAP_DATA	71242000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5184254
+SHUFFLE	COMPRESS_BYTE_COUNT	760516
+SHUFFLE	COPY_MAP_DATA	1566389000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5235458
+SHUFFLE	COMPRESS_BYTE_COUNT	768021
+SHUFFLE	COPY_MAP_DATA	1941249000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5206388
+SHUFFLE	COMPRESS_BYTE_COUNT	764006
+SHUFFLE	COPY_MAP_DATA	386112000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1219922
+SHUFFLE	COMPRESS_BYTE_COUNT	177286
+SHUFFLE	COPY_MAP_DATA	15470000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5183234
+SHUFFLE	COMPRESS_BYTE_COUNT	760835
+SHUFFLE	COPY_MAP_DATA	66807000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5206388
+SHUFFLE	COMPRESS_BYTE_COUNT	763254
+SHUFFLE	COPY_MAP_DATA	5431396000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5191190
+SHUFFLE	COMPRESS_BYTE_COUNT	761540
+SHUFFLE	COPY_MAP_DATA	5726222000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1231448
+SHUFFLE	COMPRESS_BYTE_COUNT	178677
+SHUFFLE	COPY_MAP_DATA	18171000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1243790
+SHUFFLE	COMPRESS_BYTE_COUNT	180592
+SHUFFLE	COPY_MAP_DATA	401387000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5172320
+SHUFFLE	COMPRESS_BYTE_COUNT	759041
+SHUFFLE	COPY_MAP_DATA	3021390000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5190986
+SHUFFLE	COMPRESS_BYTE_COUNT	761506
+SHUFFLE	COPY_MAP_DATA	64857000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5187518
+SHUFFLE	COMPRESS_BYTE_COUNT	761143
+SHUFFLE	COPY_MAP_DATA	45298000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5205266
+SHUFFLE	COMPRESS_BYTE_COUNT	763248
+SHUFFLE	COPY_MAP_DATA	1287591000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1211864
+SHUFFLE	COMPRESS_BYTE_COUNT	176149
+SHUFFLE	COPY_MAP_DATA	349347000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5229134
+SHUFFLE	COMPRESS_BYTE_COUNT	767138
+SHUFFLE	COPY_MAP_DATA	5704781000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5198738
+SHUFFLE	COMPRESS_BYTE_COUNT	762743
+SHUFFLE	COPY_MAP_DATA	46236000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5181602
+SHUFFLE	COMPRESS_BYTE_COUNT	759796
+SHUFFLE	COPY_MAP_DATA	45667000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1198502
+SHUFFLE	COMPRESS_BYTE_COUNT	174202
+SHUFFLE	COPY_MAP_DATA	1514043000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5225768
+SHUFFLE	COMPRESS_BYTE_COUNT	766529
+SHUFFLE	COPY_MAP_DATA	276290000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5183030
+SHUFFLE	COMPRESS_BYTE_COUNT	760080
+SHUFFLE	COPY_MAP_DATA	120678000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5172626
+SHUFFLE	COMPRESS_BYTE_COUNT	758904
+SHUFFLE	COPY_MAP_DATA	599282000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5214854
+SHUFFLE	COMPRESS_BYTE_COUNT	764947
+SHUFFLE	COPY_MAP_DATA	179418000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1236038
+SHUFFLE	COMPRESS_BYTE_COUNT	179379
+SHUFFLE	COPY_MAP_DATA	125163000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5164772
+SHUFFLE	COMPRESS_BYTE_COUNT	757491
+SHUFFLE	COPY_MAP_DATA	61870000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1225124
+SHUFFLE	COMPRESS_BYTE_COUNT	177840
+SHUFFLE	COPY_MAP_DATA	88218000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5185988
+SHUFFLE	COMPRESS_BYTE_COUNT	760859
+SHUFFLE	COPY_MAP_DATA	130349000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1209620
+SHUFFLE	COMPRESS_BYTE_COUNT	175589
+SHUFFLE	COPY_MAP_DATA	24944000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5227400
+SHUFFLE	COMPRESS_BYTE_COUNT	766891
+SHUFFLE	COPY_MAP_DATA	73267000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1216862
+SHUFFLE	COMPRESS_BYTE_COUNT	176638
+SHUFFLE	COPY_MAP_DATA	3750289000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1230326
+SHUFFLE	COMPRESS_BYTE_COUNT	178584
+SHUFFLE	COPY_MAP_DATA	64284000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1248686
+SHUFFLE	COMPRESS_BYTE_COUNT	181172
+SHUFFLE	COPY_MAP_DATA	1340816000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5205776
+SHUFFLE	COMPRESS_BYTE_COUNT	763956
+SHUFFLE	COPY_MAP_DATA	62677000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1218800
+SHUFFLE	COMPRESS_BYTE_COUNT	177087
+SHUFFLE	COPY_MAP_DATA	12201000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1224104
+SHUFFLE	COMPRESS_BYTE_COUNT	177604
+SHUFFLE	COPY_MAP_DATA	12205000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5185682
+SHUFFLE	COMPRESS_BYTE_COUNT	761237
+SHUFFLE	COPY_MAP_DATA	54199000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1224104
+SHUFFLE	COMPRESS_BYTE_COUNT	177645
+SHUFFLE	COPY_MAP_DATA	24203000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5211284
+SHUFFLE	COMPRESS_BYTE_COUNT	764209
+SHUFFLE	COPY_MAP_DATA	53932000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1237058
+SHUFFLE	COMPRESS_BYTE_COUNT	179452
+SHUFFLE	COPY_MAP_DATA	1100234000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1229306
+SHUFFLE	COMPRESS_BYTE_COUNT	178441
+SHUFFLE	COPY_MAP_DATA	19510000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5240150
+SHUFFLE	COMPRESS_BYTE_COUNT	769045
+SHUFFLE	COPY_MAP_DATA	105724000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5200472
+SHUFFLE	COMPRESS_BYTE_COUNT	763022
+SHUFFLE	COPY_MAP_DATA	128734000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1217882
+SHUFFLE	COMPRESS_BYTE_COUNT	176858
+SHUFFLE	COPY_MAP_DATA	110014000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5204654
+SHUFFLE	COMPRESS_BYTE_COUNT	763293
+SHUFFLE	COPY_MAP_DATA	483481000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1226450
+SHUFFLE	COMPRESS_BYTE_COUNT	178106
+SHUFFLE	COPY_MAP_DATA	2459347000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1208702
+SHUFFLE	COMPRESS_BYTE_COUNT	175622
+SHUFFLE	COPY_MAP_DATA	8229242000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5173544
+SHUFFLE	COMPRESS_BYTE_COUNT	759142
+SHUFFLE	COPY_MAP_DATA	274960000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1223900
+SHUFFLE	COMPRESS_BYTE_COUNT	177787
+SHUFFLE	COPY_MAP_DATA	404150000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5251166
+SHUFFLE	COMPRESS_BYTE_COUNT	770289
+SHUFFLE	COPY_MAP_DATA	46505000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5207204
+SHUFFLE	COMPRESS_BYTE_COUNT	763590
+SHUFFLE	COPY_MAP_DATA	48009000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1224716
+SHUFFLE	COMPRESS_BYTE_COUNT	177916
+SHUFFLE	COPY_MAP_DATA	87798000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1226552
+SHUFFLE	COMPRESS_BYTE_COUNT	177976
+SHUFFLE	COPY_MAP_DATA	12417000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1213700
+SHUFFLE	COMPRESS_BYTE_COUNT	176298
+SHUFFLE	COPY_MAP_DATA	62002000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1215536
+SHUFFLE	COMPRESS_BYTE_COUNT	176532
+SHUFFLE	COPY_MAP_DATA	5938176000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1211354
+SHUFFLE	COMPRESS_BYTE_COUNT	175895
+SHUFFLE	COPY_MAP_DATA	44957000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1225430
+SHUFFLE	COMPRESS_BYTE_COUNT	177877
+SHUFFLE	COPY_MAP_DATA	12600000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1229204
+SHUFFLE	COMPRESS_BYTE_COUNT	178604
+SHUFFLE	COPY_MAP_DATA	206879000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1224002
+SHUFFLE	COMPRESS_BYTE_COUNT	177621
+SHUFFLE	COPY_MAP_DATA	13053000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1233284
+SHUFFLE	COMPRESS_BYTE_COUNT	178988
+SHUFFLE	COPY_MAP_DATA	12451000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5183744
+SHUFFLE	COMPRESS_BYTE_COUNT	760535
+SHUFFLE	COPY_MAP_DATA	1800272000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1210232
+SHUFFLE	COMPRESS_BYTE_COUNT	175692
+SHUFFLE	COPY_MAP_DATA	40386000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1199522
+SHUFFLE	COMPRESS_BYTE_COUNT	174136
+SHUFFLE	COPY_MAP_DATA	66614000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1227980
+SHUFFLE	COMPRESS_BYTE_COUNT	178290
+SHUFFLE	COPY_MAP_DATA	260728000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5195780
+SHUFFLE	COMPRESS_BYTE_COUNT	762039
+SHUFFLE	COPY_MAP_DATA	1086330000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1229306
+SHUFFLE	COMPRESS_BYTE_COUNT	178583
+SHUFFLE	COPY_MAP_DATA	6765857000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5199860
+SHUFFLE	COMPRESS_BYTE_COUNT	762718
+SHUFFLE	COPY_MAP_DATA	120769000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1237874
+SHUFFLE	COMPRESS_BYTE_COUNT	179749
+SHUFFLE	COPY_MAP_DATA	49567000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1227368
+SHUFFLE	COMPRESS_BYTE_COUNT	178061
+SHUFFLE	COPY_MAP_DATA	21866000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1245014
+SHUFFLE	COMPRESS_BYTE_COUNT	180768
+SHUFFLE	COPY_MAP_DATA	806030000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1232774
+SHUFFLE	COMPRESS_BYTE_COUNT	178848
+SHUFFLE	COPY_MAP_DATA	12862000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1216556
+SHUFFLE	COMPRESS_BYTE_COUNT	176632
+SHUFFLE	COPY_MAP_DATA	14514000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1200134
+SHUFFLE	COMPRESS_BYTE_COUNT	174207
+SHUFFLE	COPY_MAP_DATA	12931000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1232876
+SHUFFLE	COMPRESS_BYTE_COUNT	178858
+SHUFFLE	COPY_MAP_DATA	2485722000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5231072
+SHUFFLE	COMPRESS_BYTE_COUNT	767274
+SHUFFLE	COPY_MAP_DATA	55765000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1219820
+SHUFFLE	COMPRESS_BYTE_COUNT	177041
+SHUFFLE	COPY_MAP_DATA	13961000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1225838
+SHUFFLE	COMPRESS_BYTE_COUNT	177914
+SHUFFLE	COPY_MAP_DATA	221701000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1229000
+SHUFFLE	COMPRESS_BYTE_COUNT	178525
+SHUFFLE	COPY_MAP_DATA	243737000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1225124
+SHUFFLE	COMPRESS_BYTE_COUNT	177870
+SHUFFLE	COPY_MAP_DATA	13357000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1219004
+SHUFFLE	COMPRESS_BYTE_COUNT	176956
+SHUFFLE	COPY_MAP_DATA	370370000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5212100
+SHUFFLE	COMPRESS_BYTE_COUNT	764324
+SHUFFLE	COPY_MAP_DATA	45249000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1224716
+SHUFFLE	COMPRESS_BYTE_COUNT	177786
+SHUFFLE	COPY_MAP_DATA	12740000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1218086
+SHUFFLE	COMPRESS_BYTE_COUNT	176843
+SHUFFLE	COPY_MAP_DATA	316452000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5217098
+SHUFFLE	COMPRESS_BYTE_COUNT	765410
+SHUFFLE	COPY_MAP_DATA	53969000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1216148
+SHUFFLE	COMPRESS_BYTE_COUNT	176528
+SHUFFLE	COPY_MAP_DATA	81892000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5229950
+SHUFFLE	COMPRESS_BYTE_COUNT	766827
+SHUFFLE	COPY_MAP_DATA	48256000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1223390
+SHUFFLE	COMPRESS_BYTE_COUNT	177579
+SHUFFLE	COPY_MAP_DATA	12354000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1213088
+SHUFFLE	COMPRESS_BYTE_COUNT	176159
+SHUFFLE	COPY_MAP_DATA	23597000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1227470
+SHUFFLE	COMPRESS_BYTE_COUNT	178218
+SHUFFLE	COPY_MAP_DATA	13393000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1239506
+SHUFFLE	COMPRESS_BYTE_COUNT	179959
+SHUFFLE	COPY_MAP_DATA	369856000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5178440
+SHUFFLE	COMPRESS_BYTE_COUNT	759985
+SHUFFLE	COPY_MAP_DATA	79488000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1220840
+SHUFFLE	COMPRESS_BYTE_COUNT	177174
+SHUFFLE	COPY_MAP_DATA	14285000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5198636
+SHUFFLE	COMPRESS_BYTE_COUNT	762647
+SHUFFLE	COPY_MAP_DATA	105924000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1225838
+SHUFFLE	COMPRESS_BYTE_COUNT	178059
+SHUFFLE	COPY_MAP_DATA	32191000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1236548
+SHUFFLE	COMPRESS_BYTE_COUNT	179405
+SHUFFLE	COPY_MAP_DATA	15246000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1230224
+SHUFFLE	COMPRESS_BYTE_COUNT	178771
+SHUFFLE	COPY_MAP_DATA	29622000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1221044
+SHUFFLE	COMPRESS_BYTE_COUNT	177256
+SHUFFLE	COPY_MAP_DATA	893516000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1219208
+SHUFFLE	COMPRESS_BYTE_COUNT	176976
+SHUFFLE	COPY_MAP_DATA	80254000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1218086
+SHUFFLE	COMPRESS_BYTE_COUNT	176750
+SHUFFLE	COPY_MAP_DATA	898719000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1221962
+SHUFFLE	COMPRESS_BYTE_COUNT	177419
+SHUFFLE	COPY_MAP_DATA	12775000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1217576
+SHUFFLE	COMPRESS_BYTE_COUNT	176765
+SHUFFLE	COPY_MAP_DATA	12514000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1213088
+SHUFFLE	COMPRESS_BYTE_COUNT	176208
+SHUFFLE	COPY_MAP_DATA	12313000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5230664
+SHUFFLE	COMPRESS_BYTE_COUNT	767349
+SHUFFLE	COPY_MAP_DATA	46268000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1234610
+SHUFFLE	COMPRESS_BYTE_COUNT	179187
+SHUFFLE	COPY_MAP_DATA	11242000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1211558
+SHUFFLE	COMPRESS_BYTE_COUNT	175932
+SHUFFLE	COPY_MAP_DATA	12805000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1233998
+SHUFFLE	COMPRESS_BYTE_COUNT	179127
+SHUFFLE	COPY_MAP_DATA	51893000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1232264
+SHUFFLE	COMPRESS_BYTE_COUNT	178919
+SHUFFLE	COPY_MAP_DATA	13753000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1211354
+SHUFFLE	COMPRESS_BYTE_COUNT	175894
+SHUFFLE	COPY_MAP_DATA	13648000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1221248
+SHUFFLE	COMPRESS_BYTE_COUNT	177388
+SHUFFLE	COPY_MAP_DATA	12607000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1229816
+SHUFFLE	COMPRESS_BYTE_COUNT	178630
+SHUFFLE	COPY_MAP_DATA	12607000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1224614
+SHUFFLE	COMPRESS_BYTE_COUNT	177859
+SHUFFLE	COPY_MAP_DATA	13926000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1233896
+SHUFFLE	COMPRESS_BYTE_COUNT	179068
+SHUFFLE	COPY_MAP_DATA	45507000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1219208
+SHUFFLE	COMPRESS_BYTE_COUNT	177066
+SHUFFLE	COPY_MAP_DATA	12437000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1218086
+SHUFFLE	COMPRESS_BYTE_COUNT	176797
+SHUFFLE	COPY_MAP_DATA	112008000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1232366
+SHUFFLE	COMPRESS_BYTE_COUNT	178790
+SHUFFLE	COPY_MAP_DATA	16632000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1212782
+SHUFFLE	COMPRESS_BYTE_COUNT	176241
+SHUFFLE	COPY_MAP_DATA	13822000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1228490
+SHUFFLE	COMPRESS_BYTE_COUNT	178453
+SHUFFLE	COPY_MAP_DATA	23967000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1211354
+SHUFFLE	COMPRESS_BYTE_COUNT	175882
+SHUFFLE	COPY_MAP_DATA	12729000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1211456
+SHUFFLE	COMPRESS_BYTE_COUNT	176017
+SHUFFLE	COPY_MAP_DATA	12921000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1235834
+SHUFFLE	COMPRESS_BYTE_COUNT	179540
+SHUFFLE	COPY_MAP_DATA	24082000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1202072
+SHUFFLE	COMPRESS_BYTE_COUNT	174548
+SHUFFLE	COPY_MAP_DATA	13725000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1243586
+SHUFFLE	COMPRESS_BYTE_COUNT	180521
+SHUFFLE	COPY_MAP_DATA	17770000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1211966
+SHUFFLE	COMPRESS_BYTE_COUNT	176066
+SHUFFLE	COPY_MAP_DATA	13443000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1236344
+SHUFFLE	COMPRESS_BYTE_COUNT	179557
+SHUFFLE	COPY_MAP_DATA	96259000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1199420
+SHUFFLE	COMPRESS_BYTE_COUNT	174235
+SHUFFLE	COPY_MAP_DATA	13497000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1225430
+SHUFFLE	COMPRESS_BYTE_COUNT	178023
+SHUFFLE	COPY_MAP_DATA	37456000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1227572
+SHUFFLE	COMPRESS_BYTE_COUNT	178343
+SHUFFLE	COPY_MAP_DATA	13530000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1247054
+SHUFFLE	COMPRESS_BYTE_COUNT	180866
+SHUFFLE	COPY_MAP_DATA	13267000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1251134
+SHUFFLE	COMPRESS_BYTE_COUNT	181582
+SHUFFLE	COPY_MAP_DATA	23590000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1226246
+SHUFFLE	COMPRESS_BYTE_COUNT	177966
+SHUFFLE	COPY_MAP_DATA	13401000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1226654
+SHUFFLE	COMPRESS_BYTE_COUNT	177976
+SHUFFLE	COPY_MAP_DATA	13324000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1227470
+SHUFFLE	COMPRESS_BYTE_COUNT	178141
+SHUFFLE	COPY_MAP_DATA	14122000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1218698
+SHUFFLE	COMPRESS_BYTE_COUNT	177010
+SHUFFLE	COPY_MAP_DATA	13462000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1214312
+SHUFFLE	COMPRESS_BYTE_COUNT	176376
+SHUFFLE	COPY_MAP_DATA	12698000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1240526
+SHUFFLE	COMPRESS_BYTE_COUNT	180101
+SHUFFLE	COPY_MAP_DATA	14918000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1224716
+SHUFFLE	COMPRESS_BYTE_COUNT	177872
+SHUFFLE	COPY_MAP_DATA	151010000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	288016471000
+MERGE	READ_WRITE	277306959000
+MERGE	READ_WRITE_COUNT	8
+MERGE	COMBINE	0
+MERGE	WRITE	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	3570095000
+SORT	READ_WRITE	3423117000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	215339008
+REDUCE	SETUP	307000
+REDUCE	SETUP_MEM	215339008
+REDUCE	CLEANUP	52000
+REDUCE	CLEANUP_MEM	154176512
+REDUCE	TOTAL_RUN	167085441000
+REDUCE	READ	22439374000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	85696208000
+REDUCE	WRITE	34934999000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	113954060
+REDUCE	VALUE_BYTE_COUNT	1002795728
+REDUCE	REDUCE_MEM	154178560
+REDUCE	WRITE	4381000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	706409669000
@@ -0,0 +1,1229 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4974746
+SHUFFLE	COMPRESS_BYTE_COUNT	729680
+SHUFFLE	COPY_MAP_DATA	121776000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5033804
+SHUFFLE	COMPRESS_BYTE_COUNT	738428
+SHUFFLE	COPY_MAP_DATA	62085000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4967606
+SHUFFLE	COMPRESS_BYTE_COUNT	728813
+SHUFFLE	COPY_MAP_DATA	80289000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4999838
+SHUFFLE	COMPRESS_BYTE_COUNT	733390
+SHUFFLE	COPY_MAP_DATA	54939000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5028092
+SHUFFLE	COMPRESS_BYTE_COUNT	737438
+SHUFFLE	COPY_MAP_DATA	81994000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5022992
+SHUFFLE	COMPRESS_BYTE_COUNT	737173
+SHUFFLE	COPY_MAP_DATA	48514000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5031968
+SHUFFLE	COMPRESS_BYTE_COUNT	737561
+SHUFFLE	COPY_MAP_DATA	317713000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4970462
+SHUFFLE	COMPRESS_BYTE_COUNT	728780
+SHUFFLE	COPY_MAP_DATA	46389000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4996982
+SHUFFLE	COMPRESS_BYTE_COUNT	732460
+SHUFFLE	COPY_MAP_DATA	112634000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5033192
+SHUFFLE	COMPRESS_BYTE_COUNT	738452
+SHUFFLE	COPY_MAP_DATA	1939207000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4970156
+SHUFFLE	COMPRESS_BYTE_COUNT	728906
+SHUFFLE	COPY_MAP_DATA	112916000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5000042
+SHUFFLE	COMPRESS_BYTE_COUNT	732583
+SHUFFLE	COPY_MAP_DATA	45132000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5019014
+SHUFFLE	COMPRESS_BYTE_COUNT	735900
+SHUFFLE	COPY_MAP_DATA	102634000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5038292
+SHUFFLE	COMPRESS_BYTE_COUNT	738597
+SHUFFLE	COPY_MAP_DATA	135447000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5028194
+SHUFFLE	COMPRESS_BYTE_COUNT	737297
+SHUFFLE	COPY_MAP_DATA	104584000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5033192
+SHUFFLE	COMPRESS_BYTE_COUNT	737931
+SHUFFLE	COPY_MAP_DATA	147152000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4994534
+SHUFFLE	COMPRESS_BYTE_COUNT	732593
+SHUFFLE	COPY_MAP_DATA	47815000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4997594
+SHUFFLE	COMPRESS_BYTE_COUNT	732707
+SHUFFLE	COPY_MAP_DATA	44898000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5025440
+SHUFFLE	COMPRESS_BYTE_COUNT	737382
+SHUFFLE	COPY_MAP_DATA	258731000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5044310
+SHUFFLE	COMPRESS_BYTE_COUNT	739739
+SHUFFLE	COPY_MAP_DATA	296814000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5008406
+SHUFFLE	COMPRESS_BYTE_COUNT	734839
+SHUFFLE	COPY_MAP_DATA	46145000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4980050
+SHUFFLE	COMPRESS_BYTE_COUNT	730542
+SHUFFLE	COPY_MAP_DATA	126921000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5006672
+SHUFFLE	COMPRESS_BYTE_COUNT	733982
+SHUFFLE	COPY_MAP_DATA	109460000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4984538
+SHUFFLE	COMPRESS_BYTE_COUNT	731121
+SHUFFLE	COPY_MAP_DATA	85426000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4994024
+SHUFFLE	COMPRESS_BYTE_COUNT	732744
+SHUFFLE	COPY_MAP_DATA	48909000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5032376
+SHUFFLE	COMPRESS_BYTE_COUNT	737751
+SHUFFLE	COPY_MAP_DATA	48616000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5020544
+SHUFFLE	COMPRESS_BYTE_COUNT	736155
+SHUFFLE	COPY_MAP_DATA	346398000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5011874
+SHUFFLE	COMPRESS_BYTE_COUNT	734827
+SHUFFLE	COPY_MAP_DATA	42235000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4952918
+SHUFFLE	COMPRESS_BYTE_COUNT	726793
+SHUFFLE	COPY_MAP_DATA	49199000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5042882
+SHUFFLE	COMPRESS_BYTE_COUNT	740119
+SHUFFLE	COPY_MAP_DATA	1160160000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4995146
+SHUFFLE	COMPRESS_BYTE_COUNT	732863
+SHUFFLE	COPY_MAP_DATA	58011000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5093168
+SHUFFLE	COMPRESS_BYTE_COUNT	746794
+SHUFFLE	COPY_MAP_DATA	1066508000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5004020
+SHUFFLE	COMPRESS_BYTE_COUNT	733991
+SHUFFLE	COPY_MAP_DATA	53005000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5013914
+SHUFFLE	COMPRESS_BYTE_COUNT	735011
+SHUFFLE	COPY_MAP_DATA	41961000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5069708
+SHUFFLE	COMPRESS_BYTE_COUNT	743097
+SHUFFLE	COPY_MAP_DATA	227191000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4996472
+SHUFFLE	COMPRESS_BYTE_COUNT	732333
+SHUFFLE	COPY_MAP_DATA	155720000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4996676
+SHUFFLE	COMPRESS_BYTE_COUNT	732977
+SHUFFLE	COPY_MAP_DATA	885954000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4994840
+SHUFFLE	COMPRESS_BYTE_COUNT	732846
+SHUFFLE	COPY_MAP_DATA	42656000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5040434
+SHUFFLE	COMPRESS_BYTE_COUNT	739111
+SHUFFLE	COPY_MAP_DATA	45675000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4998104
+SHUFFLE	COMPRESS_BYTE_COUNT	732766
+SHUFFLE	COPY_MAP_DATA	44620000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5006060
+SHUFFLE	COMPRESS_BYTE_COUNT	734216
+SHUFFLE	COPY_MAP_DATA	54216000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5029520
+SHUFFLE	COMPRESS_BYTE_COUNT	737394
+SHUFFLE	COPY_MAP_DATA	44407000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4998206
+SHUFFLE	COMPRESS_BYTE_COUNT	732807
+SHUFFLE	COPY_MAP_DATA	325654000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5015954
+SHUFFLE	COMPRESS_BYTE_COUNT	735621
+SHUFFLE	COPY_MAP_DATA	785604000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5000450
+SHUFFLE	COMPRESS_BYTE_COUNT	733221
+SHUFFLE	COPY_MAP_DATA	120651000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5029010
+SHUFFLE	COMPRESS_BYTE_COUNT	737729
+SHUFFLE	COPY_MAP_DATA	399602000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5023604
+SHUFFLE	COMPRESS_BYTE_COUNT	736671
+SHUFFLE	COPY_MAP_DATA	108954000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5012486
+SHUFFLE	COMPRESS_BYTE_COUNT	735136
+SHUFFLE	COPY_MAP_DATA	140922000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5015138
+SHUFFLE	COMPRESS_BYTE_COUNT	735658
+SHUFFLE	COPY_MAP_DATA	67055000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5022890
+SHUFFLE	COMPRESS_BYTE_COUNT	736223
+SHUFFLE	COPY_MAP_DATA	750611000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5012996
+SHUFFLE	COMPRESS_BYTE_COUNT	735541
+SHUFFLE	COPY_MAP_DATA	64095000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5002082
+SHUFFLE	COMPRESS_BYTE_COUNT	733369
+SHUFFLE	COPY_MAP_DATA	72653000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5028398
+SHUFFLE	COMPRESS_BYTE_COUNT	737550
+SHUFFLE	COPY_MAP_DATA	136818000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5031254
+SHUFFLE	COMPRESS_BYTE_COUNT	737629
+SHUFFLE	COPY_MAP_DATA	911886000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5009324
+SHUFFLE	COMPRESS_BYTE_COUNT	734635
+SHUFFLE	COPY_MAP_DATA	81525000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4985354
+SHUFFLE	COMPRESS_BYTE_COUNT	731238
+SHUFFLE	COPY_MAP_DATA	168953000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5004224
+SHUFFLE	COMPRESS_BYTE_COUNT	729416
+SHUFFLE	COPY_MAP_DATA	42101000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5033804
+SHUFFLE	COMPRESS_BYTE_COUNT	738052
+SHUFFLE	COPY_MAP_DATA	79501000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5032886
+SHUFFLE	COMPRESS_BYTE_COUNT	737829
+SHUFFLE	COPY_MAP_DATA	1479498000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5049920
+SHUFFLE	COMPRESS_BYTE_COUNT	740571
+SHUFFLE	COPY_MAP_DATA	47830000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5039312
+SHUFFLE	COMPRESS_BYTE_COUNT	739346
+SHUFFLE	COPY_MAP_DATA	43192000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5019014
+SHUFFLE	COMPRESS_BYTE_COUNT	736384
+SHUFFLE	COPY_MAP_DATA	884104000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5007284
+SHUFFLE	COMPRESS_BYTE_COUNT	734111
+SHUFFLE	COPY_MAP_DATA	41337000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5015138
+SHUFFLE	COMPRESS_BYTE_COUNT	735209
+SHUFFLE	COPY_MAP_DATA	42347000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4986782
+SHUFFLE	COMPRESS_BYTE_COUNT	731596
+SHUFFLE	COPY_MAP_DATA	1011271000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5012180
+SHUFFLE	COMPRESS_BYTE_COUNT	735039
+SHUFFLE	COPY_MAP_DATA	275652000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4994636
+SHUFFLE	COMPRESS_BYTE_COUNT	732443
+SHUFFLE	COPY_MAP_DATA	43048000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5005856
+SHUFFLE	COMPRESS_BYTE_COUNT	733954
+SHUFFLE	COPY_MAP_DATA	95341000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4998206
+SHUFFLE	COMPRESS_BYTE_COUNT	733393
+SHUFFLE	COPY_MAP_DATA	7034429000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5033396
+SHUFFLE	COMPRESS_BYTE_COUNT	738260
+SHUFFLE	COPY_MAP_DATA	41840000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4985252
+SHUFFLE	COMPRESS_BYTE_COUNT	731028
+SHUFFLE	COPY_MAP_DATA	378199000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5031152
+SHUFFLE	COMPRESS_BYTE_COUNT	737871
+SHUFFLE	COPY_MAP_DATA	45815000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5029928
+SHUFFLE	COMPRESS_BYTE_COUNT	737784
+SHUFFLE	COPY_MAP_DATA	67203000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5035028
+SHUFFLE	COMPRESS_BYTE_COUNT	738385
+SHUFFLE	COPY_MAP_DATA	50956000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5033600
+SHUFFLE	COMPRESS_BYTE_COUNT	738417
+SHUFFLE	COPY_MAP_DATA	222419000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5018504
+SHUFFLE	COMPRESS_BYTE_COUNT	735430
+SHUFFLE	COPY_MAP_DATA	2172059000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5018402
+SHUFFLE	COMPRESS_BYTE_COUNT	735545
+SHUFFLE	COPY_MAP_DATA	127430000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5022686
+SHUFFLE	COMPRESS_BYTE_COUNT	736618
+SHUFFLE	COPY_MAP_DATA	45225000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5022074
+SHUFFLE	COMPRESS_BYTE_COUNT	736034
+SHUFFLE	COPY_MAP_DATA	44456000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5021462
+SHUFFLE	COMPRESS_BYTE_COUNT	736542
+SHUFFLE	COPY_MAP_DATA	3263494000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5040944
+SHUFFLE	COMPRESS_BYTE_COUNT	739311
+SHUFFLE	COPY_MAP_DATA	44057000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4966076
+SHUFFLE	COMPRESS_BYTE_COUNT	728459
+SHUFFLE	COPY_MAP_DATA	64683000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5022176
+SHUFFLE	COMPRESS_BYTE_COUNT	736590
+SHUFFLE	COPY_MAP_DATA	43243000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5019014
+SHUFFLE	COMPRESS_BYTE_COUNT	736063
+SHUFFLE	COPY_MAP_DATA	43368000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5001368
+SHUFFLE	COMPRESS_BYTE_COUNT	733558
+SHUFFLE	COPY_MAP_DATA	43352000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5010956
+SHUFFLE	COMPRESS_BYTE_COUNT	734587
+SHUFFLE	COPY_MAP_DATA	6351073000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5038802
+SHUFFLE	COMPRESS_BYTE_COUNT	738710
+SHUFFLE	COPY_MAP_DATA	7229882000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5021156
+SHUFFLE	COMPRESS_BYTE_COUNT	736275
+SHUFFLE	COPY_MAP_DATA	44454000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5046248
+SHUFFLE	COMPRESS_BYTE_COUNT	740214
+SHUFFLE	COPY_MAP_DATA	55812000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5004836
+SHUFFLE	COMPRESS_BYTE_COUNT	734074
+SHUFFLE	COPY_MAP_DATA	114471000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4999124
+SHUFFLE	COMPRESS_BYTE_COUNT	732824
+SHUFFLE	COPY_MAP_DATA	83960000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5006978
+SHUFFLE	COMPRESS_BYTE_COUNT	734419
+SHUFFLE	COPY_MAP_DATA	681156000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4993718
+SHUFFLE	COMPRESS_BYTE_COUNT	732239
+SHUFFLE	COPY_MAP_DATA	263783000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5042882
+SHUFFLE	COMPRESS_BYTE_COUNT	739811
+SHUFFLE	COPY_MAP_DATA	57272000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5012486
+SHUFFLE	COMPRESS_BYTE_COUNT	735201
+SHUFFLE	COPY_MAP_DATA	361080000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5037986
+SHUFFLE	COMPRESS_BYTE_COUNT	738803
+SHUFFLE	COPY_MAP_DATA	43340000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5024216
+SHUFFLE	COMPRESS_BYTE_COUNT	736480
+SHUFFLE	COPY_MAP_DATA	42512000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5000450
+SHUFFLE	COMPRESS_BYTE_COUNT	733230
+SHUFFLE	COPY_MAP_DATA	778795000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4991168
+SHUFFLE	COMPRESS_BYTE_COUNT	731939
+SHUFFLE	COPY_MAP_DATA	320835000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5016158
+SHUFFLE	COMPRESS_BYTE_COUNT	735268
+SHUFFLE	COPY_MAP_DATA	316076000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4995860
+SHUFFLE	COMPRESS_BYTE_COUNT	732420
+SHUFFLE	COPY_MAP_DATA	45948000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4973012
+SHUFFLE	COMPRESS_BYTE_COUNT	729605
+SHUFFLE	COPY_MAP_DATA	295224000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5005040
+SHUFFLE	COMPRESS_BYTE_COUNT	734270
+SHUFFLE	COPY_MAP_DATA	338462000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5004326
+SHUFFLE	COMPRESS_BYTE_COUNT	733855
+SHUFFLE	COPY_MAP_DATA	63382000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5027582
+SHUFFLE	COMPRESS_BYTE_COUNT	737445
+SHUFFLE	COPY_MAP_DATA	58505000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4982294
+SHUFFLE	COMPRESS_BYTE_COUNT	730855
+SHUFFLE	COPY_MAP_DATA	125785000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5015954
+SHUFFLE	COMPRESS_BYTE_COUNT	735550
+SHUFFLE	COPY_MAP_DATA	992581000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5051960
+SHUFFLE	COMPRESS_BYTE_COUNT	740413
+SHUFFLE	COPY_MAP_DATA	45134000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5060426
+SHUFFLE	COMPRESS_BYTE_COUNT	742388
+SHUFFLE	COPY_MAP_DATA	65602000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4991780
+SHUFFLE	COMPRESS_BYTE_COUNT	732371
+SHUFFLE	COPY_MAP_DATA	804367000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5009528
+SHUFFLE	COMPRESS_BYTE_COUNT	734338
+SHUFFLE	COPY_MAP_DATA	5544781000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4976786
+SHUFFLE	COMPRESS_BYTE_COUNT	729736
+SHUFFLE	COPY_MAP_DATA	395779000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5006570
+SHUFFLE	COMPRESS_BYTE_COUNT	734284
+SHUFFLE	COPY_MAP_DATA	327394000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5005856
+SHUFFLE	COMPRESS_BYTE_COUNT	734541
+SHUFFLE	COPY_MAP_DATA	80226000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5028092
+SHUFFLE	COMPRESS_BYTE_COUNT	737030
+SHUFFLE	COPY_MAP_DATA	463144000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4993412
+SHUFFLE	COMPRESS_BYTE_COUNT	732808
+SHUFFLE	COPY_MAP_DATA	5404104000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5020442
+SHUFFLE	COMPRESS_BYTE_COUNT	736092
+SHUFFLE	COPY_MAP_DATA	103512000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5026154
+SHUFFLE	COMPRESS_BYTE_COUNT	736798
+SHUFFLE	COPY_MAP_DATA	64800000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4995248
+SHUFFLE	COMPRESS_BYTE_COUNT	732483
+SHUFFLE	COPY_MAP_DATA	47287000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5016770
+SHUFFLE	COMPRESS_BYTE_COUNT	735727
+SHUFFLE	COPY_MAP_DATA	4431585000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5025236
+SHUFFLE	COMPRESS_BYTE_COUNT	737270
+SHUFFLE	COPY_MAP_DATA	474645000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4981988
+SHUFFLE	COMPRESS_BYTE_COUNT	730257
+SHUFFLE	COPY_MAP_DATA	44393000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4980662
+SHUFFLE	COMPRESS_BYTE_COUNT	730557
+SHUFFLE	COPY_MAP_DATA	4530248000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5012180
+SHUFFLE	COMPRESS_BYTE_COUNT	734932
+SHUFFLE	COPY_MAP_DATA	65437000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4996880
+SHUFFLE	COMPRESS_BYTE_COUNT	732728
+SHUFFLE	COPY_MAP_DATA	237028000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4992800
+SHUFFLE	COMPRESS_BYTE_COUNT	732121
+SHUFFLE	COPY_MAP_DATA	77516000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5029214
+SHUFFLE	COMPRESS_BYTE_COUNT	737630
+SHUFFLE	COPY_MAP_DATA	47705000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5015648
+SHUFFLE	COMPRESS_BYTE_COUNT	735755
+SHUFFLE	COPY_MAP_DATA	301556000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4992494
+SHUFFLE	COMPRESS_BYTE_COUNT	731745
+SHUFFLE	COPY_MAP_DATA	112054000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4998206
+SHUFFLE	COMPRESS_BYTE_COUNT	733225
+SHUFFLE	COPY_MAP_DATA	1195498000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4997186
+SHUFFLE	COMPRESS_BYTE_COUNT	733124
+SHUFFLE	COPY_MAP_DATA	3694087000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4987700
+SHUFFLE	COMPRESS_BYTE_COUNT	731476
+SHUFFLE	COPY_MAP_DATA	47271000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5015750
+SHUFFLE	COMPRESS_BYTE_COUNT	735159
+SHUFFLE	COPY_MAP_DATA	217409000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5029010
+SHUFFLE	COMPRESS_BYTE_COUNT	737609
+SHUFFLE	COPY_MAP_DATA	75663000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5007182
+SHUFFLE	COMPRESS_BYTE_COUNT	734593
+SHUFFLE	COPY_MAP_DATA	175059000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4981172
+SHUFFLE	COMPRESS_BYTE_COUNT	730422
+SHUFFLE	COPY_MAP_DATA	99102000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5015648
+SHUFFLE	COMPRESS_BYTE_COUNT	728520
+SHUFFLE	COPY_MAP_DATA	610423000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4994942
+SHUFFLE	COMPRESS_BYTE_COUNT	732275
+SHUFFLE	COPY_MAP_DATA	42536000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5016872
+SHUFFLE	COMPRESS_BYTE_COUNT	736076
+SHUFFLE	COPY_MAP_DATA	68640000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4994330
+SHUFFLE	COMPRESS_BYTE_COUNT	732196
+SHUFFLE	COPY_MAP_DATA	42172000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5024114
+SHUFFLE	COMPRESS_BYTE_COUNT	736809
+SHUFFLE	COPY_MAP_DATA	43229000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5024012
+SHUFFLE	COMPRESS_BYTE_COUNT	736650
+SHUFFLE	COPY_MAP_DATA	50231000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5041352
+SHUFFLE	COMPRESS_BYTE_COUNT	739015
+SHUFFLE	COPY_MAP_DATA	260180000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5015750
+SHUFFLE	COMPRESS_BYTE_COUNT	735324
+SHUFFLE	COPY_MAP_DATA	1977934000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1173410
+SHUFFLE	COMPRESS_BYTE_COUNT	170330
+SHUFFLE	COPY_MAP_DATA	12783000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5036558
+SHUFFLE	COMPRESS_BYTE_COUNT	738420
+SHUFFLE	COPY_MAP_DATA	117095000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5023502
+SHUFFLE	COMPRESS_BYTE_COUNT	736346
+SHUFFLE	COPY_MAP_DATA	2117550000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4978928
+SHUFFLE	COMPRESS_BYTE_COUNT	730406
+SHUFFLE	COPY_MAP_DATA	49083000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4996268
+SHUFFLE	COMPRESS_BYTE_COUNT	732719
+SHUFFLE	COPY_MAP_DATA	860444000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4983824
+SHUFFLE	COMPRESS_BYTE_COUNT	730738
+SHUFFLE	COPY_MAP_DATA	140307000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1191056
+SHUFFLE	COMPRESS_BYTE_COUNT	172795
+SHUFFLE	COPY_MAP_DATA	14766000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4976990
+SHUFFLE	COMPRESS_BYTE_COUNT	730214
+SHUFFLE	COPY_MAP_DATA	43803000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1172798
+SHUFFLE	COMPRESS_BYTE_COUNT	170274
+SHUFFLE	COPY_MAP_DATA	12940000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4996676
+SHUFFLE	COMPRESS_BYTE_COUNT	732900
+SHUFFLE	COPY_MAP_DATA	62327000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5013200
+SHUFFLE	COMPRESS_BYTE_COUNT	735509
+SHUFFLE	COPY_MAP_DATA	48307000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4999736
+SHUFFLE	COMPRESS_BYTE_COUNT	733417
+SHUFFLE	COPY_MAP_DATA	45453000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4992698
+SHUFFLE	COMPRESS_BYTE_COUNT	732021
+SHUFFLE	COPY_MAP_DATA	287539000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5007590
+SHUFFLE	COMPRESS_BYTE_COUNT	734464
+SHUFFLE	COPY_MAP_DATA	373400000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4989128
+SHUFFLE	COMPRESS_BYTE_COUNT	731558
+SHUFFLE	COPY_MAP_DATA	50179000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1204724
+SHUFFLE	COMPRESS_BYTE_COUNT	174607
+SHUFFLE	COPY_MAP_DATA	12626000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5013098
+SHUFFLE	COMPRESS_BYTE_COUNT	735490
+SHUFFLE	COPY_MAP_DATA	44446000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1173512
+SHUFFLE	COMPRESS_BYTE_COUNT	170274
+SHUFFLE	COPY_MAP_DATA	13166000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5004530
+SHUFFLE	COMPRESS_BYTE_COUNT	733800
+SHUFFLE	COPY_MAP_DATA	44801000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4997288
+SHUFFLE	COMPRESS_BYTE_COUNT	733350
+SHUFFLE	COPY_MAP_DATA	490429000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5029112
+SHUFFLE	COMPRESS_BYTE_COUNT	737278
+SHUFFLE	COPY_MAP_DATA	60535000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5000960
+SHUFFLE	COMPRESS_BYTE_COUNT	733409
+SHUFFLE	COPY_MAP_DATA	44803000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4990862
+SHUFFLE	COMPRESS_BYTE_COUNT	731467
+SHUFFLE	COPY_MAP_DATA	75250000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5028908
+SHUFFLE	COMPRESS_BYTE_COUNT	737211
+SHUFFLE	COPY_MAP_DATA	118622000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5016668
+SHUFFLE	COMPRESS_BYTE_COUNT	735991
+SHUFFLE	COPY_MAP_DATA	2985494000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5019626
+SHUFFLE	COMPRESS_BYTE_COUNT	736257
+SHUFFLE	COPY_MAP_DATA	292958000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1183610
+SHUFFLE	COMPRESS_BYTE_COUNT	171687
+SHUFFLE	COPY_MAP_DATA	1220602000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4977092
+SHUFFLE	COMPRESS_BYTE_COUNT	729399
+SHUFFLE	COPY_MAP_DATA	4087068000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5008610
+SHUFFLE	COMPRESS_BYTE_COUNT	734591
+SHUFFLE	COPY_MAP_DATA	187772000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1165862
+SHUFFLE	COMPRESS_BYTE_COUNT	169232
+SHUFFLE	COPY_MAP_DATA	14690000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1181468
+SHUFFLE	COMPRESS_BYTE_COUNT	171419
+SHUFFLE	COPY_MAP_DATA	377454000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4973930
+SHUFFLE	COMPRESS_BYTE_COUNT	729587
+SHUFFLE	COPY_MAP_DATA	1894681000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4972604
+SHUFFLE	COMPRESS_BYTE_COUNT	729026
+SHUFFLE	COPY_MAP_DATA	2508537000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5014832
+SHUFFLE	COMPRESS_BYTE_COUNT	735176
+SHUFFLE	COPY_MAP_DATA	44816000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4978010
+SHUFFLE	COMPRESS_BYTE_COUNT	730515
+SHUFFLE	COPY_MAP_DATA	90866000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1183814
+SHUFFLE	COMPRESS_BYTE_COUNT	171642
+SHUFFLE	COPY_MAP_DATA	41899000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4988924
+SHUFFLE	COMPRESS_BYTE_COUNT	731991
+SHUFFLE	COPY_MAP_DATA	6265928000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5035844
+SHUFFLE	COMPRESS_BYTE_COUNT	738490
+SHUFFLE	COPY_MAP_DATA	320471000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5042780
+SHUFFLE	COMPRESS_BYTE_COUNT	739197
+SHUFFLE	COPY_MAP_DATA	43463000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1197686
+SHUFFLE	COMPRESS_BYTE_COUNT	173737
+SHUFFLE	COPY_MAP_DATA	129856000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4981172
+SHUFFLE	COMPRESS_BYTE_COUNT	730289
+SHUFFLE	COPY_MAP_DATA	292311000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4975766
+SHUFFLE	COMPRESS_BYTE_COUNT	729913
+SHUFFLE	COPY_MAP_DATA	149627000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5048390
+SHUFFLE	COMPRESS_BYTE_COUNT	740525
+SHUFFLE	COPY_MAP_DATA	141018000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1178408
+SHUFFLE	COMPRESS_BYTE_COUNT	170962
+SHUFFLE	COPY_MAP_DATA	29768000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1197380
+SHUFFLE	COMPRESS_BYTE_COUNT	173648
+SHUFFLE	COPY_MAP_DATA	13412000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4987088
+SHUFFLE	COMPRESS_BYTE_COUNT	731040
+SHUFFLE	COPY_MAP_DATA	43723000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5022482
+SHUFFLE	COMPRESS_BYTE_COUNT	736410
+SHUFFLE	COPY_MAP_DATA	669187000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5065424
+SHUFFLE	COMPRESS_BYTE_COUNT	742604
+SHUFFLE	COPY_MAP_DATA	47138000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4983110
+SHUFFLE	COMPRESS_BYTE_COUNT	731255
+SHUFFLE	COPY_MAP_DATA	77710000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1176470
+SHUFFLE	COMPRESS_BYTE_COUNT	170577
+SHUFFLE	COPY_MAP_DATA	158301000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4977908
+SHUFFLE	COMPRESS_BYTE_COUNT	729810
+SHUFFLE	COPY_MAP_DATA	294880000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1182284
+SHUFFLE	COMPRESS_BYTE_COUNT	171565
+SHUFFLE	COPY_MAP_DATA	78759000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1171064
+SHUFFLE	COMPRESS_BYTE_COUNT	169822
+SHUFFLE	COPY_MAP_DATA	12939000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1189832
+SHUFFLE	COMPRESS_BYTE_COUNT	172571
+SHUFFLE	COPY_MAP_DATA	11638000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1166168
+SHUFFLE	COMPRESS_BYTE_COUNT	169192
+SHUFFLE	COPY_MAP_DATA	12036000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1170350
+SHUFFLE	COMPRESS_BYTE_COUNT	170008
+SHUFFLE	COPY_MAP_DATA	11808000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5004530
+SHUFFLE	COMPRESS_BYTE_COUNT	734162
+SHUFFLE	COPY_MAP_DATA	44485000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1174940
+SHUFFLE	COMPRESS_BYTE_COUNT	170410
+SHUFFLE	COPY_MAP_DATA	33083000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1194014
+SHUFFLE	COMPRESS_BYTE_COUNT	173454
+SHUFFLE	COPY_MAP_DATA	13564000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1176164
+SHUFFLE	COMPRESS_BYTE_COUNT	170686
+SHUFFLE	COPY_MAP_DATA	1159332000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4983926
+SHUFFLE	COMPRESS_BYTE_COUNT	730904
+SHUFFLE	COPY_MAP_DATA	103168000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5048390
+SHUFFLE	COMPRESS_BYTE_COUNT	740244
+SHUFFLE	COPY_MAP_DATA	51968000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1171982
+SHUFFLE	COMPRESS_BYTE_COUNT	170126
+SHUFFLE	COPY_MAP_DATA	27003000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5031560
+SHUFFLE	COMPRESS_BYTE_COUNT	737686
+SHUFFLE	COPY_MAP_DATA	547805000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5021972
+SHUFFLE	COMPRESS_BYTE_COUNT	736803
+SHUFFLE	COPY_MAP_DATA	79602000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5001470
+SHUFFLE	COMPRESS_BYTE_COUNT	733607
+SHUFFLE	COPY_MAP_DATA	246019000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1176368
+SHUFFLE	COMPRESS_BYTE_COUNT	170726
+SHUFFLE	COPY_MAP_DATA	10414992000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1189118
+SHUFFLE	COMPRESS_BYTE_COUNT	172478
+SHUFFLE	COPY_MAP_DATA	13431000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1188812
+SHUFFLE	COMPRESS_BYTE_COUNT	172638
+SHUFFLE	COPY_MAP_DATA	25866000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4992392
+SHUFFLE	COMPRESS_BYTE_COUNT	732176
+SHUFFLE	COPY_MAP_DATA	51648000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5021054
+SHUFFLE	COMPRESS_BYTE_COUNT	736259
+SHUFFLE	COPY_MAP_DATA	4851677000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1181978
+SHUFFLE	COMPRESS_BYTE_COUNT	171468
+SHUFFLE	COPY_MAP_DATA	161828000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1171880
+SHUFFLE	COMPRESS_BYTE_COUNT	169982
+SHUFFLE	COPY_MAP_DATA	68813000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1186568
+SHUFFLE	COMPRESS_BYTE_COUNT	172170
+SHUFFLE	COPY_MAP_DATA	182100000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1171268
+SHUFFLE	COMPRESS_BYTE_COUNT	169913
+SHUFFLE	COPY_MAP_DATA	241154000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1190240
+SHUFFLE	COMPRESS_BYTE_COUNT	172754
+SHUFFLE	COPY_MAP_DATA	20588000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1195238
+SHUFFLE	COMPRESS_BYTE_COUNT	173401
+SHUFFLE	COPY_MAP_DATA	11961000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5004530
+SHUFFLE	COMPRESS_BYTE_COUNT	734334
+SHUFFLE	COPY_MAP_DATA	59420000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1194626
+SHUFFLE	COMPRESS_BYTE_COUNT	173295
+SHUFFLE	COPY_MAP_DATA	806042000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5012996
+SHUFFLE	COMPRESS_BYTE_COUNT	735006
+SHUFFLE	COPY_MAP_DATA	1176472000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1182998
+SHUFFLE	COMPRESS_BYTE_COUNT	171629
+SHUFFLE	COPY_MAP_DATA	16373000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1179632
+SHUFFLE	COMPRESS_BYTE_COUNT	171190
+SHUFFLE	COPY_MAP_DATA	14511000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1178816
+SHUFFLE	COMPRESS_BYTE_COUNT	170926
+SHUFFLE	COPY_MAP_DATA	154163000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1185446
+SHUFFLE	COMPRESS_BYTE_COUNT	172022
+SHUFFLE	COPY_MAP_DATA	18399000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1180550
+SHUFFLE	COMPRESS_BYTE_COUNT	171167
+SHUFFLE	COPY_MAP_DATA	296117000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1174736
+SHUFFLE	COMPRESS_BYTE_COUNT	170468
+SHUFFLE	COPY_MAP_DATA	911559000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4974440
+SHUFFLE	COMPRESS_BYTE_COUNT	729700
+SHUFFLE	COPY_MAP_DATA	269538000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1191668
+SHUFFLE	COMPRESS_BYTE_COUNT	172968
+SHUFFLE	COPY_MAP_DATA	43327000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4973318
+SHUFFLE	COMPRESS_BYTE_COUNT	729449
+SHUFFLE	COPY_MAP_DATA	55745000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1167392
+SHUFFLE	COMPRESS_BYTE_COUNT	169371
+SHUFFLE	COPY_MAP_DATA	11894000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1198400
+SHUFFLE	COMPRESS_BYTE_COUNT	173878
+SHUFFLE	COPY_MAP_DATA	38321000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1154234
+SHUFFLE	COMPRESS_BYTE_COUNT	167471
+SHUFFLE	COPY_MAP_DATA	12377000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1182896
+SHUFFLE	COMPRESS_BYTE_COUNT	171724
+SHUFFLE	COPY_MAP_DATA	21265000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1169330
+SHUFFLE	COMPRESS_BYTE_COUNT	169637
+SHUFFLE	COPY_MAP_DATA	1363631000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1178714
+SHUFFLE	COMPRESS_BYTE_COUNT	171102
+SHUFFLE	COPY_MAP_DATA	1288174000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1174940
+SHUFFLE	COMPRESS_BYTE_COUNT	170608
+SHUFFLE	COPY_MAP_DATA	21447000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1194830
+SHUFFLE	COMPRESS_BYTE_COUNT	173474
+SHUFFLE	COPY_MAP_DATA	157086000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5041964
+SHUFFLE	COMPRESS_BYTE_COUNT	739292
+SHUFFLE	COPY_MAP_DATA	43966000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1181060
+SHUFFLE	COMPRESS_BYTE_COUNT	171320
+SHUFFLE	COPY_MAP_DATA	12877000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1165760
+SHUFFLE	COMPRESS_BYTE_COUNT	169201
+SHUFFLE	COPY_MAP_DATA	15497000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1169228
+SHUFFLE	COMPRESS_BYTE_COUNT	169599
+SHUFFLE	COPY_MAP_DATA	271730000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5040842
+SHUFFLE	COMPRESS_BYTE_COUNT	739163
+SHUFFLE	COPY_MAP_DATA	44374000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5028296
+SHUFFLE	COMPRESS_BYTE_COUNT	737414
+SHUFFLE	COPY_MAP_DATA	46371000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1166474
+SHUFFLE	COMPRESS_BYTE_COUNT	169266
+SHUFFLE	COPY_MAP_DATA	12215000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1171064
+SHUFFLE	COMPRESS_BYTE_COUNT	170013
+SHUFFLE	COPY_MAP_DATA	11859000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1178612
+SHUFFLE	COMPRESS_BYTE_COUNT	170968
+SHUFFLE	COPY_MAP_DATA	13768000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1189322
+SHUFFLE	COMPRESS_BYTE_COUNT	172516
+SHUFFLE	COPY_MAP_DATA	206991000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4997492
+SHUFFLE	COMPRESS_BYTE_COUNT	732795
+SHUFFLE	COPY_MAP_DATA	49264000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5004938
+SHUFFLE	COMPRESS_BYTE_COUNT	734173
+SHUFFLE	COPY_MAP_DATA	194132000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1186058
+SHUFFLE	COMPRESS_BYTE_COUNT	172043
+SHUFFLE	COPY_MAP_DATA	12751000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1176470
+SHUFFLE	COMPRESS_BYTE_COUNT	170610
+SHUFFLE	COPY_MAP_DATA	22864000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1178204
+SHUFFLE	COMPRESS_BYTE_COUNT	170974
+SHUFFLE	COPY_MAP_DATA	18965000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1170248
+SHUFFLE	COMPRESS_BYTE_COUNT	169806
+SHUFFLE	COPY_MAP_DATA	853487000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1180244
+SHUFFLE	COMPRESS_BYTE_COUNT	171171
+SHUFFLE	COPY_MAP_DATA	13023000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1175144
+SHUFFLE	COMPRESS_BYTE_COUNT	170574
+SHUFFLE	COPY_MAP_DATA	94402000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1169330
+SHUFFLE	COMPRESS_BYTE_COUNT	169514
+SHUFFLE	COPY_MAP_DATA	12654000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1192280
+SHUFFLE	COMPRESS_BYTE_COUNT	172942
+SHUFFLE	COPY_MAP_DATA	1016694000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1176572
+SHUFFLE	COMPRESS_BYTE_COUNT	170753
+SHUFFLE	COPY_MAP_DATA	78529000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1158926
+SHUFFLE	COMPRESS_BYTE_COUNT	168182
+SHUFFLE	COPY_MAP_DATA	363741000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1173206
+SHUFFLE	COMPRESS_BYTE_COUNT	170211
+SHUFFLE	COPY_MAP_DATA	11788000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1173920
+SHUFFLE	COMPRESS_BYTE_COUNT	170363
+SHUFFLE	COPY_MAP_DATA	30314000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1194728
+SHUFFLE	COMPRESS_BYTE_COUNT	173336
+SHUFFLE	COPY_MAP_DATA	10910000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1185854
+SHUFFLE	COMPRESS_BYTE_COUNT	172038
+SHUFFLE	COPY_MAP_DATA	11860000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1201052
+SHUFFLE	COMPRESS_BYTE_COUNT	174210
+SHUFFLE	COPY_MAP_DATA	11807000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1166780
+SHUFFLE	COMPRESS_BYTE_COUNT	169372
+SHUFFLE	COPY_MAP_DATA	1113326000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1169228
+SHUFFLE	COMPRESS_BYTE_COUNT	169623
+SHUFFLE	COPY_MAP_DATA	20723000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4995860
+SHUFFLE	COMPRESS_BYTE_COUNT	732713
+SHUFFLE	COPY_MAP_DATA	46328000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1174226
+SHUFFLE	COMPRESS_BYTE_COUNT	170265
+SHUFFLE	COPY_MAP_DATA	20729000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1175756
+SHUFFLE	COMPRESS_BYTE_COUNT	170587
+SHUFFLE	COPY_MAP_DATA	22065000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1159130
+SHUFFLE	COMPRESS_BYTE_COUNT	168272
+SHUFFLE	COPY_MAP_DATA	33741000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1188710
+SHUFFLE	COMPRESS_BYTE_COUNT	172546
+SHUFFLE	COPY_MAP_DATA	45242000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1178306
+SHUFFLE	COMPRESS_BYTE_COUNT	171103
+SHUFFLE	COPY_MAP_DATA	11650000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1185446
+SHUFFLE	COMPRESS_BYTE_COUNT	171976
+SHUFFLE	COPY_MAP_DATA	100234000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1169534
+SHUFFLE	COMPRESS_BYTE_COUNT	169733
+SHUFFLE	COPY_MAP_DATA	11387000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1180346
+SHUFFLE	COMPRESS_BYTE_COUNT	171337
+SHUFFLE	COPY_MAP_DATA	11507000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1175654
+SHUFFLE	COMPRESS_BYTE_COUNT	170601
+SHUFFLE	COPY_MAP_DATA	10983000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1184732
+SHUFFLE	COMPRESS_BYTE_COUNT	171759
+SHUFFLE	COPY_MAP_DATA	83351000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1190444
+SHUFFLE	COMPRESS_BYTE_COUNT	172736
+SHUFFLE	COPY_MAP_DATA	12116000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1183304
+SHUFFLE	COMPRESS_BYTE_COUNT	171657
+SHUFFLE	COPY_MAP_DATA	31057000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1174838
+SHUFFLE	COMPRESS_BYTE_COUNT	170462
+SHUFFLE	COPY_MAP_DATA	12291000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1172186
+SHUFFLE	COMPRESS_BYTE_COUNT	170052
+SHUFFLE	COPY_MAP_DATA	11897000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1192280
+SHUFFLE	COMPRESS_BYTE_COUNT	173085
+SHUFFLE	COPY_MAP_DATA	30616000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1163108
+SHUFFLE	COMPRESS_BYTE_COUNT	168945
+SHUFFLE	COPY_MAP_DATA	12547000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1176062
+SHUFFLE	COMPRESS_BYTE_COUNT	170745
+SHUFFLE	COPY_MAP_DATA	23219000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1190648
+SHUFFLE	COMPRESS_BYTE_COUNT	172692
+SHUFFLE	COPY_MAP_DATA	34344000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1189220
+SHUFFLE	COMPRESS_BYTE_COUNT	172551
+SHUFFLE	COPY_MAP_DATA	11454000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1180754
+SHUFFLE	COMPRESS_BYTE_COUNT	171322
+SHUFFLE	COPY_MAP_DATA	11592000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1181060
+SHUFFLE	COMPRESS_BYTE_COUNT	171411
+SHUFFLE	COPY_MAP_DATA	12702000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1183304
+SHUFFLE	COMPRESS_BYTE_COUNT	171650
+SHUFFLE	COPY_MAP_DATA	13024000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1182590
+SHUFFLE	COMPRESS_BYTE_COUNT	171631
+SHUFFLE	COPY_MAP_DATA	429725000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1175654
+SHUFFLE	COMPRESS_BYTE_COUNT	170592
+SHUFFLE	COPY_MAP_DATA	213217000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1201766
+SHUFFLE	COMPRESS_BYTE_COUNT	174274
+SHUFFLE	COPY_MAP_DATA	99507000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1195238
+SHUFFLE	COMPRESS_BYTE_COUNT	173346
+SHUFFLE	COPY_MAP_DATA	97898000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1186874
+SHUFFLE	COMPRESS_BYTE_COUNT	172104
+SHUFFLE	COPY_MAP_DATA	210738000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1168514
+SHUFFLE	COMPRESS_BYTE_COUNT	169549
+SHUFFLE	COPY_MAP_DATA	43676000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1165862
+SHUFFLE	COMPRESS_BYTE_COUNT	169198
+SHUFFLE	COPY_MAP_DATA	197884000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	245239617000
+MERGE	READ_WRITE	239345508000
+MERGE	READ_WRITE_COUNT	7
+MERGE	COMBINE	0
+MERGE	WRITE	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	14100394000
+SORT	READ_WRITE	13929204000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	121996224
+REDUCE	SETUP	338000
+REDUCE	SETUP_MEM	121996224
+REDUCE	CLEANUP	35000
+REDUCE	CLEANUP_MEM	126941176
+REDUCE	TOTAL_RUN	162518515000
+REDUCE	READ	22754090000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	83165918000
+REDUCE	WRITE	33200083000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	109811500
+REDUCE	VALUE_BYTE_COUNT	966341200
+REDUCE	REDUCE_MEM	126943224
+REDUCE	WRITE	3841000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	713964619710
@@ -0,0 +1,1229 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5068790
+SHUFFLE	COMPRESS_BYTE_COUNT	743356
+SHUFFLE	COPY_MAP_DATA	257886000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5031968
+SHUFFLE	COMPRESS_BYTE_COUNT	738182
+SHUFFLE	COPY_MAP_DATA	114317000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5059202
+SHUFFLE	COMPRESS_BYTE_COUNT	741955
+SHUFFLE	COPY_MAP_DATA	100290000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5064098
+SHUFFLE	COMPRESS_BYTE_COUNT	742748
+SHUFFLE	COPY_MAP_DATA	68911000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5062262
+SHUFFLE	COMPRESS_BYTE_COUNT	743000
+SHUFFLE	COPY_MAP_DATA	96829000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5047778
+SHUFFLE	COMPRESS_BYTE_COUNT	740547
+SHUFFLE	COPY_MAP_DATA	63670000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5073788
+SHUFFLE	COMPRESS_BYTE_COUNT	744098
+SHUFFLE	COPY_MAP_DATA	80074000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5046656
+SHUFFLE	COMPRESS_BYTE_COUNT	739763
+SHUFFLE	COPY_MAP_DATA	46715000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5053286
+SHUFFLE	COMPRESS_BYTE_COUNT	741578
+SHUFFLE	COPY_MAP_DATA	265904000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5040536
+SHUFFLE	COMPRESS_BYTE_COUNT	739811
+SHUFFLE	COPY_MAP_DATA	46271000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5070524
+SHUFFLE	COMPRESS_BYTE_COUNT	743458
+SHUFFLE	COPY_MAP_DATA	65060000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5039516
+SHUFFLE	COMPRESS_BYTE_COUNT	739306
+SHUFFLE	COPY_MAP_DATA	66796000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5071850
+SHUFFLE	COMPRESS_BYTE_COUNT	743748
+SHUFFLE	COPY_MAP_DATA	58960000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5034926
+SHUFFLE	COMPRESS_BYTE_COUNT	738454
+SHUFFLE	COPY_MAP_DATA	150268000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5080010
+SHUFFLE	COMPRESS_BYTE_COUNT	745380
+SHUFFLE	COPY_MAP_DATA	213910000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5061140
+SHUFFLE	COMPRESS_BYTE_COUNT	742335
+SHUFFLE	COPY_MAP_DATA	45696000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5061140
+SHUFFLE	COMPRESS_BYTE_COUNT	742223
+SHUFFLE	COPY_MAP_DATA	54180000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5051042
+SHUFFLE	COMPRESS_BYTE_COUNT	740851
+SHUFFLE	COPY_MAP_DATA	49083000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5009324
+SHUFFLE	COMPRESS_BYTE_COUNT	735132
+SHUFFLE	COPY_MAP_DATA	159506000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5103062
+SHUFFLE	COMPRESS_BYTE_COUNT	748417
+SHUFFLE	COPY_MAP_DATA	54550000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5067362
+SHUFFLE	COMPRESS_BYTE_COUNT	743424
+SHUFFLE	COPY_MAP_DATA	48440000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5052062
+SHUFFLE	COMPRESS_BYTE_COUNT	740950
+SHUFFLE	COPY_MAP_DATA	45786000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5039414
+SHUFFLE	COMPRESS_BYTE_COUNT	738972
+SHUFFLE	COPY_MAP_DATA	54630000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5099288
+SHUFFLE	COMPRESS_BYTE_COUNT	748112
+SHUFFLE	COPY_MAP_DATA	59916000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5080826
+SHUFFLE	COMPRESS_BYTE_COUNT	745056
+SHUFFLE	COPY_MAP_DATA	52309000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5079806
+SHUFFLE	COMPRESS_BYTE_COUNT	745054
+SHUFFLE	COPY_MAP_DATA	177301000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5050124
+SHUFFLE	COMPRESS_BYTE_COUNT	740605
+SHUFFLE	COPY_MAP_DATA	72251000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5053796
+SHUFFLE	COMPRESS_BYTE_COUNT	741413
+SHUFFLE	COPY_MAP_DATA	175117000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5047472
+SHUFFLE	COMPRESS_BYTE_COUNT	740462
+SHUFFLE	COPY_MAP_DATA	55139000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5036150
+SHUFFLE	COMPRESS_BYTE_COUNT	739091
+SHUFFLE	COPY_MAP_DATA	176741000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5018504
+SHUFFLE	COMPRESS_BYTE_COUNT	736531
+SHUFFLE	COPY_MAP_DATA	84035000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5067770
+SHUFFLE	COMPRESS_BYTE_COUNT	743781
+SHUFFLE	COPY_MAP_DATA	47267000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5063078
+SHUFFLE	COMPRESS_BYTE_COUNT	742533
+SHUFFLE	COPY_MAP_DATA	226102000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5052266
+SHUFFLE	COMPRESS_BYTE_COUNT	741035
+SHUFFLE	COPY_MAP_DATA	45355000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5014730
+SHUFFLE	COMPRESS_BYTE_COUNT	735568
+SHUFFLE	COPY_MAP_DATA	195853000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5044106
+SHUFFLE	COMPRESS_BYTE_COUNT	739786
+SHUFFLE	COPY_MAP_DATA	135093000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5058080
+SHUFFLE	COMPRESS_BYTE_COUNT	742011
+SHUFFLE	COPY_MAP_DATA	132465000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5044310
+SHUFFLE	COMPRESS_BYTE_COUNT	740345
+SHUFFLE	COPY_MAP_DATA	49843000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5073584
+SHUFFLE	COMPRESS_BYTE_COUNT	743968
+SHUFFLE	COPY_MAP_DATA	364466000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5003306
+SHUFFLE	COMPRESS_BYTE_COUNT	734051
+SHUFFLE	COPY_MAP_DATA	76506000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5028806
+SHUFFLE	COMPRESS_BYTE_COUNT	737549
+SHUFFLE	COPY_MAP_DATA	65385000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5055836
+SHUFFLE	COMPRESS_BYTE_COUNT	741982
+SHUFFLE	COPY_MAP_DATA	98394000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5080622
+SHUFFLE	COMPRESS_BYTE_COUNT	745233
+SHUFFLE	COPY_MAP_DATA	109541000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5071238
+SHUFFLE	COMPRESS_BYTE_COUNT	743765
+SHUFFLE	COPY_MAP_DATA	3740102000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5029622
+SHUFFLE	COMPRESS_BYTE_COUNT	737488
+SHUFFLE	COPY_MAP_DATA	331070000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5039618
+SHUFFLE	COMPRESS_BYTE_COUNT	739709
+SHUFFLE	COPY_MAP_DATA	78266000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5049716
+SHUFFLE	COMPRESS_BYTE_COUNT	740880
+SHUFFLE	COPY_MAP_DATA	44606000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5087354
+SHUFFLE	COMPRESS_BYTE_COUNT	745936
+SHUFFLE	COPY_MAP_DATA	43395000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5043494
+SHUFFLE	COMPRESS_BYTE_COUNT	739688
+SHUFFLE	COPY_MAP_DATA	982784000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5040944
+SHUFFLE	COMPRESS_BYTE_COUNT	739540
+SHUFFLE	COPY_MAP_DATA	96386000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5028908
+SHUFFLE	COMPRESS_BYTE_COUNT	737545
+SHUFFLE	COPY_MAP_DATA	46710000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5018504
+SHUFFLE	COMPRESS_BYTE_COUNT	736584
+SHUFFLE	COPY_MAP_DATA	45939000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5047472
+SHUFFLE	COMPRESS_BYTE_COUNT	740532
+SHUFFLE	COPY_MAP_DATA	42516000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5045126
+SHUFFLE	COMPRESS_BYTE_COUNT	740053
+SHUFFLE	COPY_MAP_DATA	43025000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5062772
+SHUFFLE	COMPRESS_BYTE_COUNT	742902
+SHUFFLE	COPY_MAP_DATA	43850000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5079908
+SHUFFLE	COMPRESS_BYTE_COUNT	744945
+SHUFFLE	COPY_MAP_DATA	142115000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4999226
+SHUFFLE	COMPRESS_BYTE_COUNT	728986
+SHUFFLE	COPY_MAP_DATA	13362435000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5037986
+SHUFFLE	COMPRESS_BYTE_COUNT	738946
+SHUFFLE	COPY_MAP_DATA	43144000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5028398
+SHUFFLE	COMPRESS_BYTE_COUNT	737958
+SHUFFLE	COPY_MAP_DATA	48450000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5022278
+SHUFFLE	COMPRESS_BYTE_COUNT	736697
+SHUFFLE	COPY_MAP_DATA	94925000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5037374
+SHUFFLE	COMPRESS_BYTE_COUNT	739254
+SHUFFLE	COPY_MAP_DATA	45573000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5043290
+SHUFFLE	COMPRESS_BYTE_COUNT	739902
+SHUFFLE	COPY_MAP_DATA	42667000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5079908
+SHUFFLE	COMPRESS_BYTE_COUNT	744875
+SHUFFLE	COPY_MAP_DATA	42752000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5027378
+SHUFFLE	COMPRESS_BYTE_COUNT	737053
+SHUFFLE	COPY_MAP_DATA	42018000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5059100
+SHUFFLE	COMPRESS_BYTE_COUNT	742323
+SHUFFLE	COPY_MAP_DATA	45396000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5056550
+SHUFFLE	COMPRESS_BYTE_COUNT	741718
+SHUFFLE	COPY_MAP_DATA	44711000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5059814
+SHUFFLE	COMPRESS_BYTE_COUNT	742237
+SHUFFLE	COPY_MAP_DATA	928439000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5046248
+SHUFFLE	COMPRESS_BYTE_COUNT	740032
+SHUFFLE	COPY_MAP_DATA	179562000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5040128
+SHUFFLE	COMPRESS_BYTE_COUNT	739675
+SHUFFLE	COPY_MAP_DATA	2161146000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5078888
+SHUFFLE	COMPRESS_BYTE_COUNT	744980
+SHUFFLE	COPY_MAP_DATA	52798000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5040740
+SHUFFLE	COMPRESS_BYTE_COUNT	739607
+SHUFFLE	COPY_MAP_DATA	787797000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5050022
+SHUFFLE	COMPRESS_BYTE_COUNT	741215
+SHUFFLE	COPY_MAP_DATA	1183584000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5071646
+SHUFFLE	COMPRESS_BYTE_COUNT	744404
+SHUFFLE	COPY_MAP_DATA	5975212000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5036966
+SHUFFLE	COMPRESS_BYTE_COUNT	738501
+SHUFFLE	COPY_MAP_DATA	467507000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5047574
+SHUFFLE	COMPRESS_BYTE_COUNT	740395
+SHUFFLE	COPY_MAP_DATA	44892000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5056244
+SHUFFLE	COMPRESS_BYTE_COUNT	742107
+SHUFFLE	COPY_MAP_DATA	302133000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4995554
+SHUFFLE	COMPRESS_BYTE_COUNT	732944
+SHUFFLE	COPY_MAP_DATA	41931000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5058488
+SHUFFLE	COMPRESS_BYTE_COUNT	741977
+SHUFFLE	COPY_MAP_DATA	48685000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5030030
+SHUFFLE	COMPRESS_BYTE_COUNT	737719
+SHUFFLE	COPY_MAP_DATA	2468707000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5017178
+SHUFFLE	COMPRESS_BYTE_COUNT	735978
+SHUFFLE	COPY_MAP_DATA	52329000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5060018
+SHUFFLE	COMPRESS_BYTE_COUNT	742485
+SHUFFLE	COPY_MAP_DATA	44288000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5053592
+SHUFFLE	COMPRESS_BYTE_COUNT	741548
+SHUFFLE	COPY_MAP_DATA	43452000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5046452
+SHUFFLE	COMPRESS_BYTE_COUNT	740721
+SHUFFLE	COPY_MAP_DATA	10911254000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5095310
+SHUFFLE	COMPRESS_BYTE_COUNT	747018
+SHUFFLE	COPY_MAP_DATA	50961000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5054000
+SHUFFLE	COMPRESS_BYTE_COUNT	741483
+SHUFFLE	COPY_MAP_DATA	4905944000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5017790
+SHUFFLE	COMPRESS_BYTE_COUNT	735866
+SHUFFLE	COPY_MAP_DATA	2320494000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5071952
+SHUFFLE	COMPRESS_BYTE_COUNT	743877
+SHUFFLE	COPY_MAP_DATA	44541000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5039414
+SHUFFLE	COMPRESS_BYTE_COUNT	739410
+SHUFFLE	COPY_MAP_DATA	227307000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5053184
+SHUFFLE	COMPRESS_BYTE_COUNT	740970
+SHUFFLE	COPY_MAP_DATA	53521000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5029418
+SHUFFLE	COMPRESS_BYTE_COUNT	738011
+SHUFFLE	COPY_MAP_DATA	101655000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5058692
+SHUFFLE	COMPRESS_BYTE_COUNT	741675
+SHUFFLE	COPY_MAP_DATA	3321887000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5075828
+SHUFFLE	COMPRESS_BYTE_COUNT	744564
+SHUFFLE	COPY_MAP_DATA	43893000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5075726
+SHUFFLE	COMPRESS_BYTE_COUNT	744465
+SHUFFLE	COPY_MAP_DATA	1651830000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5017280
+SHUFFLE	COMPRESS_BYTE_COUNT	736161
+SHUFFLE	COPY_MAP_DATA	43802000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5086028
+SHUFFLE	COMPRESS_BYTE_COUNT	746294
+SHUFFLE	COPY_MAP_DATA	45935000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5044820
+SHUFFLE	COMPRESS_BYTE_COUNT	740380
+SHUFFLE	COPY_MAP_DATA	44620000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5061650
+SHUFFLE	COMPRESS_BYTE_COUNT	742549
+SHUFFLE	COPY_MAP_DATA	1102007000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5038088
+SHUFFLE	COMPRESS_BYTE_COUNT	738837
+SHUFFLE	COPY_MAP_DATA	581245000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5045432
+SHUFFLE	COMPRESS_BYTE_COUNT	740039
+SHUFFLE	COPY_MAP_DATA	201418000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5054408
+SHUFFLE	COMPRESS_BYTE_COUNT	741076
+SHUFFLE	COPY_MAP_DATA	43197000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5055224
+SHUFFLE	COMPRESS_BYTE_COUNT	741502
+SHUFFLE	COPY_MAP_DATA	42862000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5050736
+SHUFFLE	COMPRESS_BYTE_COUNT	741222
+SHUFFLE	COPY_MAP_DATA	101068000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5044310
+SHUFFLE	COMPRESS_BYTE_COUNT	740115
+SHUFFLE	COPY_MAP_DATA	234107000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5044922
+SHUFFLE	COMPRESS_BYTE_COUNT	739876
+SHUFFLE	COPY_MAP_DATA	53075000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5042984
+SHUFFLE	COMPRESS_BYTE_COUNT	739726
+SHUFFLE	COPY_MAP_DATA	154645000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5017178
+SHUFFLE	COMPRESS_BYTE_COUNT	736179
+SHUFFLE	COPY_MAP_DATA	2320457000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5039312
+SHUFFLE	COMPRESS_BYTE_COUNT	739205
+SHUFFLE	COPY_MAP_DATA	45580000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5010446
+SHUFFLE	COMPRESS_BYTE_COUNT	734728
+SHUFFLE	COPY_MAP_DATA	190897000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5039618
+SHUFFLE	COMPRESS_BYTE_COUNT	739554
+SHUFFLE	COPY_MAP_DATA	44282000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5089598
+SHUFFLE	COMPRESS_BYTE_COUNT	746679
+SHUFFLE	COPY_MAP_DATA	45531000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5049104
+SHUFFLE	COMPRESS_BYTE_COUNT	740748
+SHUFFLE	COPY_MAP_DATA	1107831000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5036048
+SHUFFLE	COMPRESS_BYTE_COUNT	738486
+SHUFFLE	COPY_MAP_DATA	69867000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5032070
+SHUFFLE	COMPRESS_BYTE_COUNT	738108
+SHUFFLE	COPY_MAP_DATA	49274000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5045024
+SHUFFLE	COMPRESS_BYTE_COUNT	740218
+SHUFFLE	COPY_MAP_DATA	49864000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5046962
+SHUFFLE	COMPRESS_BYTE_COUNT	739988
+SHUFFLE	COPY_MAP_DATA	89375000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5061956
+SHUFFLE	COMPRESS_BYTE_COUNT	742650
+SHUFFLE	COPY_MAP_DATA	43589000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5036456
+SHUFFLE	COMPRESS_BYTE_COUNT	739179
+SHUFFLE	COPY_MAP_DATA	50773000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5073176
+SHUFFLE	COMPRESS_BYTE_COUNT	743676
+SHUFFLE	COPY_MAP_DATA	146096000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5034110
+SHUFFLE	COMPRESS_BYTE_COUNT	738545
+SHUFFLE	COPY_MAP_DATA	280573000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5075624
+SHUFFLE	COMPRESS_BYTE_COUNT	744176
+SHUFFLE	COPY_MAP_DATA	62504000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5060630
+SHUFFLE	COMPRESS_BYTE_COUNT	742445
+SHUFFLE	COPY_MAP_DATA	2481879000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5029010
+SHUFFLE	COMPRESS_BYTE_COUNT	737719
+SHUFFLE	COPY_MAP_DATA	43601000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5082866
+SHUFFLE	COMPRESS_BYTE_COUNT	745387
+SHUFFLE	COPY_MAP_DATA	799302000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5036864
+SHUFFLE	COMPRESS_BYTE_COUNT	738609
+SHUFFLE	COPY_MAP_DATA	44514000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5006570
+SHUFFLE	COMPRESS_BYTE_COUNT	734586
+SHUFFLE	COPY_MAP_DATA	244497000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5095106
+SHUFFLE	COMPRESS_BYTE_COUNT	747140
+SHUFFLE	COPY_MAP_DATA	93190000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5044310
+SHUFFLE	COMPRESS_BYTE_COUNT	740038
+SHUFFLE	COPY_MAP_DATA	424843000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5075318
+SHUFFLE	COMPRESS_BYTE_COUNT	744447
+SHUFFLE	COPY_MAP_DATA	145043000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5067770
+SHUFFLE	COMPRESS_BYTE_COUNT	743945
+SHUFFLE	COPY_MAP_DATA	271971000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5037272
+SHUFFLE	COMPRESS_BYTE_COUNT	739249
+SHUFFLE	COPY_MAP_DATA	61396000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5065118
+SHUFFLE	COMPRESS_BYTE_COUNT	743265
+SHUFFLE	COPY_MAP_DATA	3852622000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5016464
+SHUFFLE	COMPRESS_BYTE_COUNT	736183
+SHUFFLE	COPY_MAP_DATA	44442000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5025542
+SHUFFLE	COMPRESS_BYTE_COUNT	737529
+SHUFFLE	COPY_MAP_DATA	60463000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5054306
+SHUFFLE	COMPRESS_BYTE_COUNT	741148
+SHUFFLE	COPY_MAP_DATA	884402000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5080826
+SHUFFLE	COMPRESS_BYTE_COUNT	745072
+SHUFFLE	COPY_MAP_DATA	85443000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5043698
+SHUFFLE	COMPRESS_BYTE_COUNT	739787
+SHUFFLE	COPY_MAP_DATA	260175000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5048084
+SHUFFLE	COMPRESS_BYTE_COUNT	733312
+SHUFFLE	COPY_MAP_DATA	47939000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5039414
+SHUFFLE	COMPRESS_BYTE_COUNT	739272
+SHUFFLE	COPY_MAP_DATA	1557799000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5029622
+SHUFFLE	COMPRESS_BYTE_COUNT	737478
+SHUFFLE	COPY_MAP_DATA	47516000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5043800
+SHUFFLE	COMPRESS_BYTE_COUNT	740013
+SHUFFLE	COPY_MAP_DATA	49349000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5067974
+SHUFFLE	COMPRESS_BYTE_COUNT	743217
+SHUFFLE	COPY_MAP_DATA	554825000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5053898
+SHUFFLE	COMPRESS_BYTE_COUNT	741246
+SHUFFLE	COPY_MAP_DATA	230005000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5027072
+SHUFFLE	COMPRESS_BYTE_COUNT	737343
+SHUFFLE	COPY_MAP_DATA	64677000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5018912
+SHUFFLE	COMPRESS_BYTE_COUNT	736212
+SHUFFLE	COPY_MAP_DATA	1852111000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1200644
+SHUFFLE	COMPRESS_BYTE_COUNT	174446
+SHUFFLE	COPY_MAP_DATA	12334000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5036048
+SHUFFLE	COMPRESS_BYTE_COUNT	738557
+SHUFFLE	COPY_MAP_DATA	52188000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5026970
+SHUFFLE	COMPRESS_BYTE_COUNT	737217
+SHUFFLE	COPY_MAP_DATA	5202212000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1196870
+SHUFFLE	COMPRESS_BYTE_COUNT	173685
+SHUFFLE	COPY_MAP_DATA	3232755000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5017586
+SHUFFLE	COMPRESS_BYTE_COUNT	735824
+SHUFFLE	COPY_MAP_DATA	181998000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5047166
+SHUFFLE	COMPRESS_BYTE_COUNT	740626
+SHUFFLE	COPY_MAP_DATA	13597683000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5065832
+SHUFFLE	COMPRESS_BYTE_COUNT	743111
+SHUFFLE	COPY_MAP_DATA	96627000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1187690
+SHUFFLE	COMPRESS_BYTE_COUNT	172431
+SHUFFLE	COPY_MAP_DATA	20016000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5021054
+SHUFFLE	COMPRESS_BYTE_COUNT	737110
+SHUFFLE	COPY_MAP_DATA	47159000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5030030
+SHUFFLE	COMPRESS_BYTE_COUNT	738237
+SHUFFLE	COPY_MAP_DATA	47919000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5053592
+SHUFFLE	COMPRESS_BYTE_COUNT	741212
+SHUFFLE	COPY_MAP_DATA	44205000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5067362
+SHUFFLE	COMPRESS_BYTE_COUNT	743513
+SHUFFLE	COPY_MAP_DATA	43937000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1201766
+SHUFFLE	COMPRESS_BYTE_COUNT	174418
+SHUFFLE	COPY_MAP_DATA	11876000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5050430
+SHUFFLE	COMPRESS_BYTE_COUNT	741124
+SHUFFLE	COPY_MAP_DATA	55052000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5044820
+SHUFFLE	COMPRESS_BYTE_COUNT	739894
+SHUFFLE	COPY_MAP_DATA	44664000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5105510
+SHUFFLE	COMPRESS_BYTE_COUNT	748949
+SHUFFLE	COPY_MAP_DATA	44381000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5031152
+SHUFFLE	COMPRESS_BYTE_COUNT	738154
+SHUFFLE	COPY_MAP_DATA	101381000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1172084
+SHUFFLE	COMPRESS_BYTE_COUNT	170149
+SHUFFLE	COPY_MAP_DATA	12568000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5075522
+SHUFFLE	COMPRESS_BYTE_COUNT	744068
+SHUFFLE	COPY_MAP_DATA	45022000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5063792
+SHUFFLE	COMPRESS_BYTE_COUNT	742826
+SHUFFLE	COPY_MAP_DATA	163215000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5030642
+SHUFFLE	COMPRESS_BYTE_COUNT	738326
+SHUFFLE	COPY_MAP_DATA	44736000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5030030
+SHUFFLE	COMPRESS_BYTE_COUNT	737796
+SHUFFLE	COPY_MAP_DATA	1760112000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5071340
+SHUFFLE	COMPRESS_BYTE_COUNT	743913
+SHUFFLE	COPY_MAP_DATA	376887000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5059508
+SHUFFLE	COMPRESS_BYTE_COUNT	742397
+SHUFFLE	COPY_MAP_DATA	61944000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5034824
+SHUFFLE	COMPRESS_BYTE_COUNT	738833
+SHUFFLE	COPY_MAP_DATA	1544505000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5036150
+SHUFFLE	COMPRESS_BYTE_COUNT	738678
+SHUFFLE	COPY_MAP_DATA	1941456000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1189322
+SHUFFLE	COMPRESS_BYTE_COUNT	172733
+SHUFFLE	COPY_MAP_DATA	124305000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5046554
+SHUFFLE	COMPRESS_BYTE_COUNT	739937
+SHUFFLE	COPY_MAP_DATA	335114000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5064404
+SHUFFLE	COMPRESS_BYTE_COUNT	742789
+SHUFFLE	COPY_MAP_DATA	6875511000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1191056
+SHUFFLE	COMPRESS_BYTE_COUNT	173088
+SHUFFLE	COPY_MAP_DATA	5228416000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1174940
+SHUFFLE	COMPRESS_BYTE_COUNT	170558
+SHUFFLE	COPY_MAP_DATA	12028000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5059610
+SHUFFLE	COMPRESS_BYTE_COUNT	742535
+SHUFFLE	COPY_MAP_DATA	64282000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5036558
+SHUFFLE	COMPRESS_BYTE_COUNT	738913
+SHUFFLE	COPY_MAP_DATA	44652000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5039108
+SHUFFLE	COMPRESS_BYTE_COUNT	739371
+SHUFFLE	COPY_MAP_DATA	43996000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1184834
+SHUFFLE	COMPRESS_BYTE_COUNT	172047
+SHUFFLE	COPY_MAP_DATA	172028000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4991270
+SHUFFLE	COMPRESS_BYTE_COUNT	732244
+SHUFFLE	COPY_MAP_DATA	2584871000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5071340
+SHUFFLE	COMPRESS_BYTE_COUNT	744067
+SHUFFLE	COPY_MAP_DATA	4679069000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5046758
+SHUFFLE	COMPRESS_BYTE_COUNT	740806
+SHUFFLE	COPY_MAP_DATA	45260000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5071748
+SHUFFLE	COMPRESS_BYTE_COUNT	743255
+SHUFFLE	COPY_MAP_DATA	64535000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1204112
+SHUFFLE	COMPRESS_BYTE_COUNT	174711
+SHUFFLE	COPY_MAP_DATA	66975000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5080214
+SHUFFLE	COMPRESS_BYTE_COUNT	745091
+SHUFFLE	COPY_MAP_DATA	5055138000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5074400
+SHUFFLE	COMPRESS_BYTE_COUNT	744856
+SHUFFLE	COPY_MAP_DATA	9435212000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5090822
+SHUFFLE	COMPRESS_BYTE_COUNT	746628
+SHUFFLE	COPY_MAP_DATA	120781000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5034314
+SHUFFLE	COMPRESS_BYTE_COUNT	738627
+SHUFFLE	COPY_MAP_DATA	45068000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1195340
+SHUFFLE	COMPRESS_BYTE_COUNT	173512
+SHUFFLE	COPY_MAP_DATA	13304000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5085212
+SHUFFLE	COMPRESS_BYTE_COUNT	745588
+SHUFFLE	COPY_MAP_DATA	77491000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5090108
+SHUFFLE	COMPRESS_BYTE_COUNT	746343
+SHUFFLE	COPY_MAP_DATA	316068000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1182998
+SHUFFLE	COMPRESS_BYTE_COUNT	171768
+SHUFFLE	COPY_MAP_DATA	131723000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1185548
+SHUFFLE	COMPRESS_BYTE_COUNT	172216
+SHUFFLE	COPY_MAP_DATA	540214000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5016260
+SHUFFLE	COMPRESS_BYTE_COUNT	735631
+SHUFFLE	COPY_MAP_DATA	46099000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1155152
+SHUFFLE	COMPRESS_BYTE_COUNT	167739
+SHUFFLE	COPY_MAP_DATA	16169000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1182080
+SHUFFLE	COMPRESS_BYTE_COUNT	171669
+SHUFFLE	COPY_MAP_DATA	22789000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1194830
+SHUFFLE	COMPRESS_BYTE_COUNT	173498
+SHUFFLE	COPY_MAP_DATA	78838000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1164638
+SHUFFLE	COMPRESS_BYTE_COUNT	169086
+SHUFFLE	COPY_MAP_DATA	11944000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5071748
+SHUFFLE	COMPRESS_BYTE_COUNT	743980
+SHUFFLE	COPY_MAP_DATA	43690000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1183712
+SHUFFLE	COMPRESS_BYTE_COUNT	171697
+SHUFFLE	COPY_MAP_DATA	14146000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1178306
+SHUFFLE	COMPRESS_BYTE_COUNT	171270
+SHUFFLE	COPY_MAP_DATA	310300000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5030948
+SHUFFLE	COMPRESS_BYTE_COUNT	738122
+SHUFFLE	COPY_MAP_DATA	216251000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1167902
+SHUFFLE	COMPRESS_BYTE_COUNT	169599
+SHUFFLE	COPY_MAP_DATA	469070000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1183814
+SHUFFLE	COMPRESS_BYTE_COUNT	171776
+SHUFFLE	COPY_MAP_DATA	12469000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5053796
+SHUFFLE	COMPRESS_BYTE_COUNT	740859
+SHUFFLE	COPY_MAP_DATA	50309000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5034110
+SHUFFLE	COMPRESS_BYTE_COUNT	738654
+SHUFFLE	COPY_MAP_DATA	1618673000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1180448
+SHUFFLE	COMPRESS_BYTE_COUNT	171521
+SHUFFLE	COPY_MAP_DATA	64295000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5077052
+SHUFFLE	COMPRESS_BYTE_COUNT	744896
+SHUFFLE	COPY_MAP_DATA	62080000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5048390
+SHUFFLE	COMPRESS_BYTE_COUNT	740339
+SHUFFLE	COPY_MAP_DATA	139893000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1187996
+SHUFFLE	COMPRESS_BYTE_COUNT	172357
+SHUFFLE	COPY_MAP_DATA	5529200000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5062160
+SHUFFLE	COMPRESS_BYTE_COUNT	742518
+SHUFFLE	COPY_MAP_DATA	51587000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5040026
+SHUFFLE	COMPRESS_BYTE_COUNT	738925
+SHUFFLE	COPY_MAP_DATA	913937000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1215944
+SHUFFLE	COMPRESS_BYTE_COUNT	176585
+SHUFFLE	COPY_MAP_DATA	13237000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1192382
+SHUFFLE	COMPRESS_BYTE_COUNT	172984
+SHUFFLE	COPY_MAP_DATA	36856000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5003204
+SHUFFLE	COMPRESS_BYTE_COUNT	733883
+SHUFFLE	COPY_MAP_DATA	42269000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1199216
+SHUFFLE	COMPRESS_BYTE_COUNT	174300
+SHUFFLE	COPY_MAP_DATA	11727000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1167902
+SHUFFLE	COMPRESS_BYTE_COUNT	169617
+SHUFFLE	COPY_MAP_DATA	241487000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1174226
+SHUFFLE	COMPRESS_BYTE_COUNT	170498
+SHUFFLE	COPY_MAP_DATA	12313000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1175756
+SHUFFLE	COMPRESS_BYTE_COUNT	170628
+SHUFFLE	COPY_MAP_DATA	11514000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1195340
+SHUFFLE	COMPRESS_BYTE_COUNT	173643
+SHUFFLE	COPY_MAP_DATA	11790000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1188812
+SHUFFLE	COMPRESS_BYTE_COUNT	172624
+SHUFFLE	COPY_MAP_DATA	12322000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1203500
+SHUFFLE	COMPRESS_BYTE_COUNT	174768
+SHUFFLE	COPY_MAP_DATA	11677000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1186874
+SHUFFLE	COMPRESS_BYTE_COUNT	172316
+SHUFFLE	COPY_MAP_DATA	11715000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1185548
+SHUFFLE	COMPRESS_BYTE_COUNT	172209
+SHUFFLE	COPY_MAP_DATA	11344000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5081336
+SHUFFLE	COMPRESS_BYTE_COUNT	745048
+SHUFFLE	COPY_MAP_DATA	973759000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1185140
+SHUFFLE	COMPRESS_BYTE_COUNT	172070
+SHUFFLE	COPY_MAP_DATA	5684963000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1193096
+SHUFFLE	COMPRESS_BYTE_COUNT	173385
+SHUFFLE	COPY_MAP_DATA	455528000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5098880
+SHUFFLE	COMPRESS_BYTE_COUNT	748041
+SHUFFLE	COPY_MAP_DATA	43143000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5060834
+SHUFFLE	COMPRESS_BYTE_COUNT	742685
+SHUFFLE	COPY_MAP_DATA	384776000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1199522
+SHUFFLE	COMPRESS_BYTE_COUNT	174081
+SHUFFLE	COPY_MAP_DATA	3264628000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1161680
+SHUFFLE	COMPRESS_BYTE_COUNT	168651
+SHUFFLE	COPY_MAP_DATA	12952000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1172798
+SHUFFLE	COMPRESS_BYTE_COUNT	170300
+SHUFFLE	COPY_MAP_DATA	12726000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1175756
+SHUFFLE	COMPRESS_BYTE_COUNT	170781
+SHUFFLE	COPY_MAP_DATA	13103000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1200542
+SHUFFLE	COMPRESS_BYTE_COUNT	174312
+SHUFFLE	COPY_MAP_DATA	100553000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5070524
+SHUFFLE	COMPRESS_BYTE_COUNT	743853
+SHUFFLE	COPY_MAP_DATA	72415000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1176674
+SHUFFLE	COMPRESS_BYTE_COUNT	170928
+SHUFFLE	COPY_MAP_DATA	13840000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1187792
+SHUFFLE	COMPRESS_BYTE_COUNT	172374
+SHUFFLE	COPY_MAP_DATA	339709000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1198400
+SHUFFLE	COMPRESS_BYTE_COUNT	174135
+SHUFFLE	COPY_MAP_DATA	65153000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1185854
+SHUFFLE	COMPRESS_BYTE_COUNT	172188
+SHUFFLE	COPY_MAP_DATA	23479000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1191770
+SHUFFLE	COMPRESS_BYTE_COUNT	173015
+SHUFFLE	COPY_MAP_DATA	940952000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1170452
+SHUFFLE	COMPRESS_BYTE_COUNT	169943
+SHUFFLE	COPY_MAP_DATA	31846000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5056754
+SHUFFLE	COMPRESS_BYTE_COUNT	742100
+SHUFFLE	COPY_MAP_DATA	407291000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1179938
+SHUFFLE	COMPRESS_BYTE_COUNT	171296
+SHUFFLE	COPY_MAP_DATA	217472000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1178612
+SHUFFLE	COMPRESS_BYTE_COUNT	171169
+SHUFFLE	COPY_MAP_DATA	106509000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5007182
+SHUFFLE	COMPRESS_BYTE_COUNT	734224
+SHUFFLE	COPY_MAP_DATA	4531593000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1164944
+SHUFFLE	COMPRESS_BYTE_COUNT	169205
+SHUFFLE	COPY_MAP_DATA	98990000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1192688
+SHUFFLE	COMPRESS_BYTE_COUNT	173175
+SHUFFLE	COPY_MAP_DATA	12097000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5098166
+SHUFFLE	COMPRESS_BYTE_COUNT	747516
+SHUFFLE	COPY_MAP_DATA	1443456000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1188200
+SHUFFLE	COMPRESS_BYTE_COUNT	172637
+SHUFFLE	COPY_MAP_DATA	12293000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1188710
+SHUFFLE	COMPRESS_BYTE_COUNT	172645
+SHUFFLE	COPY_MAP_DATA	12393000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5054306
+SHUFFLE	COMPRESS_BYTE_COUNT	741204
+SHUFFLE	COPY_MAP_DATA	44296000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1179734
+SHUFFLE	COMPRESS_BYTE_COUNT	171374
+SHUFFLE	COPY_MAP_DATA	35371000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5050022
+SHUFFLE	COMPRESS_BYTE_COUNT	740844
+SHUFFLE	COPY_MAP_DATA	53757000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1170248
+SHUFFLE	COMPRESS_BYTE_COUNT	169908
+SHUFFLE	COPY_MAP_DATA	1366332000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1193708
+SHUFFLE	COMPRESS_BYTE_COUNT	173396
+SHUFFLE	COPY_MAP_DATA	234712000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1169228
+SHUFFLE	COMPRESS_BYTE_COUNT	169768
+SHUFFLE	COPY_MAP_DATA	218718000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1191464
+SHUFFLE	COMPRESS_BYTE_COUNT	172906
+SHUFFLE	COPY_MAP_DATA	144529000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1180142
+SHUFFLE	COMPRESS_BYTE_COUNT	171441
+SHUFFLE	COPY_MAP_DATA	19762000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1164230
+SHUFFLE	COMPRESS_BYTE_COUNT	169037
+SHUFFLE	COPY_MAP_DATA	61473000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1182386
+SHUFFLE	COMPRESS_BYTE_COUNT	171731
+SHUFFLE	COPY_MAP_DATA	22989000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1184732
+SHUFFLE	COMPRESS_BYTE_COUNT	172011
+SHUFFLE	COPY_MAP_DATA	12003000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1188608
+SHUFFLE	COMPRESS_BYTE_COUNT	172542
+SHUFFLE	COPY_MAP_DATA	11861000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1187078
+SHUFFLE	COMPRESS_BYTE_COUNT	172420
+SHUFFLE	COPY_MAP_DATA	12071000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1169942
+SHUFFLE	COMPRESS_BYTE_COUNT	169832
+SHUFFLE	COPY_MAP_DATA	13283000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1177694
+SHUFFLE	COMPRESS_BYTE_COUNT	170998
+SHUFFLE	COPY_MAP_DATA	12818000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5026766
+SHUFFLE	COMPRESS_BYTE_COUNT	737207
+SHUFFLE	COPY_MAP_DATA	44850000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1210640
+SHUFFLE	COMPRESS_BYTE_COUNT	175726
+SHUFFLE	COPY_MAP_DATA	14423000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1185038
+SHUFFLE	COMPRESS_BYTE_COUNT	172096
+SHUFFLE	COPY_MAP_DATA	11963000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1196360
+SHUFFLE	COMPRESS_BYTE_COUNT	173623
+SHUFFLE	COPY_MAP_DATA	12567000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1176674
+SHUFFLE	COMPRESS_BYTE_COUNT	170888
+SHUFFLE	COPY_MAP_DATA	51670000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1193810
+SHUFFLE	COMPRESS_BYTE_COUNT	173367
+SHUFFLE	COPY_MAP_DATA	20687000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1183100
+SHUFFLE	COMPRESS_BYTE_COUNT	171821
+SHUFFLE	COPY_MAP_DATA	12427000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1183100
+SHUFFLE	COMPRESS_BYTE_COUNT	171792
+SHUFFLE	COPY_MAP_DATA	11791000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1203092
+SHUFFLE	COMPRESS_BYTE_COUNT	174612
+SHUFFLE	COPY_MAP_DATA	13066000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1174022
+SHUFFLE	COMPRESS_BYTE_COUNT	170467
+SHUFFLE	COPY_MAP_DATA	16689000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1189322
+SHUFFLE	COMPRESS_BYTE_COUNT	172655
+SHUFFLE	COPY_MAP_DATA	14034000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1182182
+SHUFFLE	COMPRESS_BYTE_COUNT	171722
+SHUFFLE	COPY_MAP_DATA	12477000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1184528
+SHUFFLE	COMPRESS_BYTE_COUNT	172000
+SHUFFLE	COPY_MAP_DATA	12627000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1182692
+SHUFFLE	COMPRESS_BYTE_COUNT	171836
+SHUFFLE	COPY_MAP_DATA	12791000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1197074
+SHUFFLE	COMPRESS_BYTE_COUNT	173893
+SHUFFLE	COPY_MAP_DATA	12398000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1200032
+SHUFFLE	COMPRESS_BYTE_COUNT	174194
+SHUFFLE	COPY_MAP_DATA	11161000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1187996
+SHUFFLE	COMPRESS_BYTE_COUNT	172481
+SHUFFLE	COPY_MAP_DATA	87177000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1186670
+SHUFFLE	COMPRESS_BYTE_COUNT	172304
+SHUFFLE	COPY_MAP_DATA	23235000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1180652
+SHUFFLE	COMPRESS_BYTE_COUNT	171406
+SHUFFLE	COPY_MAP_DATA	13072000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1193606
+SHUFFLE	COMPRESS_BYTE_COUNT	173346
+SHUFFLE	COPY_MAP_DATA	13490000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1194422
+SHUFFLE	COMPRESS_BYTE_COUNT	173515
+SHUFFLE	COPY_MAP_DATA	24216000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1175654
+SHUFFLE	COMPRESS_BYTE_COUNT	170630
+SHUFFLE	COPY_MAP_DATA	12982000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1199930
+SHUFFLE	COMPRESS_BYTE_COUNT	174206
+SHUFFLE	COPY_MAP_DATA	12738000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1205234
+SHUFFLE	COMPRESS_BYTE_COUNT	174983
+SHUFFLE	COPY_MAP_DATA	13658000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1197176
+SHUFFLE	COMPRESS_BYTE_COUNT	173858
+SHUFFLE	COPY_MAP_DATA	13994000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1174022
+SHUFFLE	COMPRESS_BYTE_COUNT	170596
+SHUFFLE	COPY_MAP_DATA	114677000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1187690
+SHUFFLE	COMPRESS_BYTE_COUNT	172421
+SHUFFLE	COPY_MAP_DATA	12047000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1210436
+SHUFFLE	COMPRESS_BYTE_COUNT	175800
+SHUFFLE	COPY_MAP_DATA	23279000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1217270
+SHUFFLE	COMPRESS_BYTE_COUNT	176743
+SHUFFLE	COPY_MAP_DATA	14051000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1181876
+SHUFFLE	COMPRESS_BYTE_COUNT	171579
+SHUFFLE	COPY_MAP_DATA	13563000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1192178
+SHUFFLE	COMPRESS_BYTE_COUNT	173087
+SHUFFLE	COPY_MAP_DATA	15053000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1204520
+SHUFFLE	COMPRESS_BYTE_COUNT	174887
+SHUFFLE	COPY_MAP_DATA	13947000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1196666
+SHUFFLE	COMPRESS_BYTE_COUNT	173633
+SHUFFLE	COPY_MAP_DATA	23781000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1189016
+SHUFFLE	COMPRESS_BYTE_COUNT	172589
+SHUFFLE	COPY_MAP_DATA	25147000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1196768
+SHUFFLE	COMPRESS_BYTE_COUNT	173660
+SHUFFLE	COPY_MAP_DATA	33855000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	298229420000
+MERGE	READ_WRITE	292624620000
+MERGE	READ_WRITE_COUNT	8
+MERGE	COMBINE	0
+MERGE	WRITE	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	3135588000
+SORT	READ_WRITE	2968481000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	228594496
+REDUCE	SETUP	316000
+REDUCE	SETUP_MEM	228594496
+REDUCE	CLEANUP	36000
+REDUCE	CLEANUP_MEM	227124568
+REDUCE	TOTAL_RUN	162067553000
+REDUCE	READ	21696963000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	83373363000
+REDUCE	WRITE	33510973000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	110663010
+REDUCE	VALUE_BYTE_COUNT	973834488
+REDUCE	REDUCE_MEM	227124568
+REDUCE	WRITE	4348000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	700837646027
@@ -0,0 +1,1229 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5255450
+SHUFFLE	COMPRESS_BYTE_COUNT	770568
+SHUFFLE	COPY_MAP_DATA	746402000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5212304
+SHUFFLE	COMPRESS_BYTE_COUNT	764722
+SHUFFLE	COPY_MAP_DATA	845743000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5226584
+SHUFFLE	COMPRESS_BYTE_COUNT	765618
+SHUFFLE	COPY_MAP_DATA	102811000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5203124
+SHUFFLE	COMPRESS_BYTE_COUNT	763269
+SHUFFLE	COPY_MAP_DATA	64788000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5199860
+SHUFFLE	COMPRESS_BYTE_COUNT	763047
+SHUFFLE	COPY_MAP_DATA	144618000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5244740
+SHUFFLE	COMPRESS_BYTE_COUNT	769265
+SHUFFLE	COPY_MAP_DATA	52089000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5185172
+SHUFFLE	COMPRESS_BYTE_COUNT	760413
+SHUFFLE	COPY_MAP_DATA	101791000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5236784
+SHUFFLE	COMPRESS_BYTE_COUNT	768433
+SHUFFLE	COPY_MAP_DATA	81517000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5166506
+SHUFFLE	COMPRESS_BYTE_COUNT	758552
+SHUFFLE	COPY_MAP_DATA	95299000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5194454
+SHUFFLE	COMPRESS_BYTE_COUNT	761579
+SHUFFLE	COPY_MAP_DATA	54109000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5219648
+SHUFFLE	COMPRESS_BYTE_COUNT	765314
+SHUFFLE	COPY_MAP_DATA	48402000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5214956
+SHUFFLE	COMPRESS_BYTE_COUNT	764778
+SHUFFLE	COPY_MAP_DATA	53349000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5190578
+SHUFFLE	COMPRESS_BYTE_COUNT	760919
+SHUFFLE	COPY_MAP_DATA	69607000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5177114
+SHUFFLE	COMPRESS_BYTE_COUNT	759233
+SHUFFLE	COPY_MAP_DATA	74757000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5180378
+SHUFFLE	COMPRESS_BYTE_COUNT	760156
+SHUFFLE	COPY_MAP_DATA	46340000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5231174
+SHUFFLE	COMPRESS_BYTE_COUNT	767120
+SHUFFLE	COPY_MAP_DATA	50136000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5207714
+SHUFFLE	COMPRESS_BYTE_COUNT	763532
+SHUFFLE	COPY_MAP_DATA	73596000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5181806
+SHUFFLE	COMPRESS_BYTE_COUNT	759964
+SHUFFLE	COPY_MAP_DATA	798608000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5266364
+SHUFFLE	COMPRESS_BYTE_COUNT	772352
+SHUFFLE	COPY_MAP_DATA	166089000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5208632
+SHUFFLE	COMPRESS_BYTE_COUNT	763795
+SHUFFLE	COPY_MAP_DATA	45239000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5201594
+SHUFFLE	COMPRESS_BYTE_COUNT	762800
+SHUFFLE	COPY_MAP_DATA	147090000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5224442
+SHUFFLE	COMPRESS_BYTE_COUNT	766068
+SHUFFLE	COPY_MAP_DATA	44886000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5195474
+SHUFFLE	COMPRESS_BYTE_COUNT	761814
+SHUFFLE	COPY_MAP_DATA	119639000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5245352
+SHUFFLE	COMPRESS_BYTE_COUNT	769448
+SHUFFLE	COPY_MAP_DATA	67726000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5190272
+SHUFFLE	COMPRESS_BYTE_COUNT	761301
+SHUFFLE	COPY_MAP_DATA	49327000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5195474
+SHUFFLE	COMPRESS_BYTE_COUNT	761948
+SHUFFLE	COPY_MAP_DATA	47217000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5176094
+SHUFFLE	COMPRESS_BYTE_COUNT	759163
+SHUFFLE	COPY_MAP_DATA	95522000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5224238
+SHUFFLE	COMPRESS_BYTE_COUNT	766380
+SHUFFLE	COPY_MAP_DATA	1168461000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5193128
+SHUFFLE	COMPRESS_BYTE_COUNT	761864
+SHUFFLE	COPY_MAP_DATA	305092000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5205470
+SHUFFLE	COMPRESS_BYTE_COUNT	763847
+SHUFFLE	COPY_MAP_DATA	8546818000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5207102
+SHUFFLE	COMPRESS_BYTE_COUNT	763747
+SHUFFLE	COPY_MAP_DATA	109655000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5225768
+SHUFFLE	COMPRESS_BYTE_COUNT	766584
+SHUFFLE	COPY_MAP_DATA	110405000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5192210
+SHUFFLE	COMPRESS_BYTE_COUNT	761305
+SHUFFLE	COPY_MAP_DATA	155700000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5199860
+SHUFFLE	COMPRESS_BYTE_COUNT	762569
+SHUFFLE	COPY_MAP_DATA	46001000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5216894
+SHUFFLE	COMPRESS_BYTE_COUNT	764780
+SHUFFLE	COPY_MAP_DATA	120781000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5200268
+SHUFFLE	COMPRESS_BYTE_COUNT	762657
+SHUFFLE	COPY_MAP_DATA	50758000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5240660
+SHUFFLE	COMPRESS_BYTE_COUNT	768498
+SHUFFLE	COPY_MAP_DATA	46146000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5193536
+SHUFFLE	COMPRESS_BYTE_COUNT	762124
+SHUFFLE	COPY_MAP_DATA	55287000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5193638
+SHUFFLE	COMPRESS_BYTE_COUNT	761418
+SHUFFLE	COPY_MAP_DATA	96881000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5220770
+SHUFFLE	COMPRESS_BYTE_COUNT	765618
+SHUFFLE	COPY_MAP_DATA	46754000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5241782
+SHUFFLE	COMPRESS_BYTE_COUNT	769126
+SHUFFLE	COPY_MAP_DATA	97409000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5177522
+SHUFFLE	COMPRESS_BYTE_COUNT	759056
+SHUFFLE	COPY_MAP_DATA	310962000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5201390
+SHUFFLE	COMPRESS_BYTE_COUNT	763283
+SHUFFLE	COPY_MAP_DATA	2880326000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5220566
+SHUFFLE	COMPRESS_BYTE_COUNT	765418
+SHUFFLE	COPY_MAP_DATA	46618000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5200982
+SHUFFLE	COMPRESS_BYTE_COUNT	763277
+SHUFFLE	COPY_MAP_DATA	45923000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5207510
+SHUFFLE	COMPRESS_BYTE_COUNT	763772
+SHUFFLE	COPY_MAP_DATA	98731000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5212814
+SHUFFLE	COMPRESS_BYTE_COUNT	764914
+SHUFFLE	COPY_MAP_DATA	97194000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5198534
+SHUFFLE	COMPRESS_BYTE_COUNT	762822
+SHUFFLE	COPY_MAP_DATA	141533000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5234336
+SHUFFLE	COMPRESS_BYTE_COUNT	767507
+SHUFFLE	COPY_MAP_DATA	45926000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5177522
+SHUFFLE	COMPRESS_BYTE_COUNT	759524
+SHUFFLE	COPY_MAP_DATA	310437000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5214242
+SHUFFLE	COMPRESS_BYTE_COUNT	764739
+SHUFFLE	COPY_MAP_DATA	1016558000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5194148
+SHUFFLE	COMPRESS_BYTE_COUNT	762230
+SHUFFLE	COPY_MAP_DATA	103542000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5171300
+SHUFFLE	COMPRESS_BYTE_COUNT	758319
+SHUFFLE	COPY_MAP_DATA	45974000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5185172
+SHUFFLE	COMPRESS_BYTE_COUNT	760180
+SHUFFLE	COPY_MAP_DATA	113425000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5228216
+SHUFFLE	COMPRESS_BYTE_COUNT	766672
+SHUFFLE	COPY_MAP_DATA	331130000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5215262
+SHUFFLE	COMPRESS_BYTE_COUNT	760166
+SHUFFLE	COPY_MAP_DATA	533925000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5179460
+SHUFFLE	COMPRESS_BYTE_COUNT	759452
+SHUFFLE	COPY_MAP_DATA	98949000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5143760
+SHUFFLE	COMPRESS_BYTE_COUNT	754290
+SHUFFLE	COPY_MAP_DATA	177287000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5222198
+SHUFFLE	COMPRESS_BYTE_COUNT	765810
+SHUFFLE	COPY_MAP_DATA	44003000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5222504
+SHUFFLE	COMPRESS_BYTE_COUNT	766116
+SHUFFLE	COPY_MAP_DATA	614936000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5224136
+SHUFFLE	COMPRESS_BYTE_COUNT	766475
+SHUFFLE	COPY_MAP_DATA	66155000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5216486
+SHUFFLE	COMPRESS_BYTE_COUNT	765454
+SHUFFLE	COPY_MAP_DATA	895999000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5189252
+SHUFFLE	COMPRESS_BYTE_COUNT	760864
+SHUFFLE	COPY_MAP_DATA	65786000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5215466
+SHUFFLE	COMPRESS_BYTE_COUNT	764520
+SHUFFLE	COPY_MAP_DATA	49583000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5202818
+SHUFFLE	COMPRESS_BYTE_COUNT	762945
+SHUFFLE	COPY_MAP_DATA	57530000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5195372
+SHUFFLE	COMPRESS_BYTE_COUNT	762283
+SHUFFLE	COPY_MAP_DATA	339246000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5239742
+SHUFFLE	COMPRESS_BYTE_COUNT	768148
+SHUFFLE	COPY_MAP_DATA	1103748000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5196086
+SHUFFLE	COMPRESS_BYTE_COUNT	762166
+SHUFFLE	COPY_MAP_DATA	2836220000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5204348
+SHUFFLE	COMPRESS_BYTE_COUNT	763622
+SHUFFLE	COPY_MAP_DATA	44160000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5236478
+SHUFFLE	COMPRESS_BYTE_COUNT	767702
+SHUFFLE	COPY_MAP_DATA	85191000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5216588
+SHUFFLE	COMPRESS_BYTE_COUNT	765129
+SHUFFLE	COPY_MAP_DATA	59514000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5195474
+SHUFFLE	COMPRESS_BYTE_COUNT	762009
+SHUFFLE	COPY_MAP_DATA	4574347000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5193026
+SHUFFLE	COMPRESS_BYTE_COUNT	761267
+SHUFFLE	COPY_MAP_DATA	501866000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5157020
+SHUFFLE	COMPRESS_BYTE_COUNT	756610
+SHUFFLE	COPY_MAP_DATA	176266000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5195372
+SHUFFLE	COMPRESS_BYTE_COUNT	761797
+SHUFFLE	COPY_MAP_DATA	42177000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5192720
+SHUFFLE	COMPRESS_BYTE_COUNT	761572
+SHUFFLE	COPY_MAP_DATA	1227565000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5191904
+SHUFFLE	COMPRESS_BYTE_COUNT	761614
+SHUFFLE	COPY_MAP_DATA	1782293000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5218016
+SHUFFLE	COMPRESS_BYTE_COUNT	764950
+SHUFFLE	COPY_MAP_DATA	2483443000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5214038
+SHUFFLE	COMPRESS_BYTE_COUNT	764878
+SHUFFLE	COPY_MAP_DATA	114333000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5172218
+SHUFFLE	COMPRESS_BYTE_COUNT	758924
+SHUFFLE	COPY_MAP_DATA	46209000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5248616
+SHUFFLE	COMPRESS_BYTE_COUNT	769679
+SHUFFLE	COPY_MAP_DATA	1838449000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5241170
+SHUFFLE	COMPRESS_BYTE_COUNT	768885
+SHUFFLE	COPY_MAP_DATA	233984000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5211998
+SHUFFLE	COMPRESS_BYTE_COUNT	764657
+SHUFFLE	COPY_MAP_DATA	11942658000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5200370
+SHUFFLE	COMPRESS_BYTE_COUNT	762800
+SHUFFLE	COPY_MAP_DATA	482041000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5217812
+SHUFFLE	COMPRESS_BYTE_COUNT	765511
+SHUFFLE	COPY_MAP_DATA	7618162000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5197616
+SHUFFLE	COMPRESS_BYTE_COUNT	761920
+SHUFFLE	COPY_MAP_DATA	46071000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5215262
+SHUFFLE	COMPRESS_BYTE_COUNT	764625
+SHUFFLE	COPY_MAP_DATA	46911000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5187314
+SHUFFLE	COMPRESS_BYTE_COUNT	760661
+SHUFFLE	COPY_MAP_DATA	81372000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5214752
+SHUFFLE	COMPRESS_BYTE_COUNT	764635
+SHUFFLE	COPY_MAP_DATA	46160000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5220872
+SHUFFLE	COMPRESS_BYTE_COUNT	765947
+SHUFFLE	COPY_MAP_DATA	227369000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5153654
+SHUFFLE	COMPRESS_BYTE_COUNT	755930
+SHUFFLE	COPY_MAP_DATA	44712000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5188028
+SHUFFLE	COMPRESS_BYTE_COUNT	760939
+SHUFFLE	COPY_MAP_DATA	52529000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5199248
+SHUFFLE	COMPRESS_BYTE_COUNT	762417
+SHUFFLE	COPY_MAP_DATA	176792000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5176298
+SHUFFLE	COMPRESS_BYTE_COUNT	759435
+SHUFFLE	COPY_MAP_DATA	45937000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5220056
+SHUFFLE	COMPRESS_BYTE_COUNT	765607
+SHUFFLE	COPY_MAP_DATA	111786000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5216486
+SHUFFLE	COMPRESS_BYTE_COUNT	765237
+SHUFFLE	COPY_MAP_DATA	227447000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5186294
+SHUFFLE	COMPRESS_BYTE_COUNT	760605
+SHUFFLE	COPY_MAP_DATA	47209000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5189966
+SHUFFLE	COMPRESS_BYTE_COUNT	761015
+SHUFFLE	COPY_MAP_DATA	289724000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5177318
+SHUFFLE	COMPRESS_BYTE_COUNT	758885
+SHUFFLE	COPY_MAP_DATA	747847000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5265650
+SHUFFLE	COMPRESS_BYTE_COUNT	771927
+SHUFFLE	COPY_MAP_DATA	253288000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5177012
+SHUFFLE	COMPRESS_BYTE_COUNT	759749
+SHUFFLE	COPY_MAP_DATA	45721000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5227808
+SHUFFLE	COMPRESS_BYTE_COUNT	766545
+SHUFFLE	COPY_MAP_DATA	1164375000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5169362
+SHUFFLE	COMPRESS_BYTE_COUNT	758394
+SHUFFLE	COPY_MAP_DATA	54573000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5228930
+SHUFFLE	COMPRESS_BYTE_COUNT	766876
+SHUFFLE	COPY_MAP_DATA	113503000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5215466
+SHUFFLE	COMPRESS_BYTE_COUNT	765150
+SHUFFLE	COPY_MAP_DATA	1107531000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5211284
+SHUFFLE	COMPRESS_BYTE_COUNT	764029
+SHUFFLE	COPY_MAP_DATA	3033611000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5191496
+SHUFFLE	COMPRESS_BYTE_COUNT	761695
+SHUFFLE	COPY_MAP_DATA	46128000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5202410
+SHUFFLE	COMPRESS_BYTE_COUNT	762994
+SHUFFLE	COPY_MAP_DATA	66389000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5259938
+SHUFFLE	COMPRESS_BYTE_COUNT	771464
+SHUFFLE	COPY_MAP_DATA	1998767000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5193944
+SHUFFLE	COMPRESS_BYTE_COUNT	762027
+SHUFFLE	COPY_MAP_DATA	368292000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5242190
+SHUFFLE	COMPRESS_BYTE_COUNT	768460
+SHUFFLE	COPY_MAP_DATA	49380000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5200472
+SHUFFLE	COMPRESS_BYTE_COUNT	762463
+SHUFFLE	COPY_MAP_DATA	95352000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5222096
+SHUFFLE	COMPRESS_BYTE_COUNT	765887
+SHUFFLE	COPY_MAP_DATA	44080000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5198534
+SHUFFLE	COMPRESS_BYTE_COUNT	762649
+SHUFFLE	COPY_MAP_DATA	44314000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5170178
+SHUFFLE	COMPRESS_BYTE_COUNT	758060
+SHUFFLE	COPY_MAP_DATA	87365000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5189660
+SHUFFLE	COMPRESS_BYTE_COUNT	761439
+SHUFFLE	COPY_MAP_DATA	44619000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5177216
+SHUFFLE	COMPRESS_BYTE_COUNT	759824
+SHUFFLE	COPY_MAP_DATA	53815000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5191190
+SHUFFLE	COMPRESS_BYTE_COUNT	761368
+SHUFFLE	COPY_MAP_DATA	43770000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5193332
+SHUFFLE	COMPRESS_BYTE_COUNT	761621
+SHUFFLE	COPY_MAP_DATA	245470000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5209040
+SHUFFLE	COMPRESS_BYTE_COUNT	764142
+SHUFFLE	COPY_MAP_DATA	1933886000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5173748
+SHUFFLE	COMPRESS_BYTE_COUNT	758505
+SHUFFLE	COPY_MAP_DATA	1647146000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5195474
+SHUFFLE	COMPRESS_BYTE_COUNT	762237
+SHUFFLE	COPY_MAP_DATA	53602000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5182316
+SHUFFLE	COMPRESS_BYTE_COUNT	760106
+SHUFFLE	COPY_MAP_DATA	462587000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5223014
+SHUFFLE	COMPRESS_BYTE_COUNT	765887
+SHUFFLE	COPY_MAP_DATA	1286382000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5271056
+SHUFFLE	COMPRESS_BYTE_COUNT	772717
+SHUFFLE	COPY_MAP_DATA	247002000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5206694
+SHUFFLE	COMPRESS_BYTE_COUNT	763135
+SHUFFLE	COPY_MAP_DATA	48992000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5226380
+SHUFFLE	COMPRESS_BYTE_COUNT	766821
+SHUFFLE	COPY_MAP_DATA	1793060000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5204246
+SHUFFLE	COMPRESS_BYTE_COUNT	763455
+SHUFFLE	COPY_MAP_DATA	56273000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5162018
+SHUFFLE	COMPRESS_BYTE_COUNT	757222
+SHUFFLE	COPY_MAP_DATA	75835000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5260142
+SHUFFLE	COMPRESS_BYTE_COUNT	771413
+SHUFFLE	COPY_MAP_DATA	48587000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5199452
+SHUFFLE	COMPRESS_BYTE_COUNT	762972
+SHUFFLE	COPY_MAP_DATA	48310000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5190884
+SHUFFLE	COMPRESS_BYTE_COUNT	761383
+SHUFFLE	COPY_MAP_DATA	3424285000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5193842
+SHUFFLE	COMPRESS_BYTE_COUNT	761733
+SHUFFLE	COPY_MAP_DATA	113636000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5209346
+SHUFFLE	COMPRESS_BYTE_COUNT	763881
+SHUFFLE	COPY_MAP_DATA	412113000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5215874
+SHUFFLE	COMPRESS_BYTE_COUNT	765150
+SHUFFLE	COPY_MAP_DATA	174660000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5244128
+SHUFFLE	COMPRESS_BYTE_COUNT	768914
+SHUFFLE	COPY_MAP_DATA	1172868000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5164976
+SHUFFLE	COMPRESS_BYTE_COUNT	757335
+SHUFFLE	COPY_MAP_DATA	166986000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5241068
+SHUFFLE	COMPRESS_BYTE_COUNT	761270
+SHUFFLE	COPY_MAP_DATA	43069000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5222708
+SHUFFLE	COMPRESS_BYTE_COUNT	766354
+SHUFFLE	COPY_MAP_DATA	596855000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5178746
+SHUFFLE	COMPRESS_BYTE_COUNT	759470
+SHUFFLE	COPY_MAP_DATA	267788000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5226380
+SHUFFLE	COMPRESS_BYTE_COUNT	766336
+SHUFFLE	COPY_MAP_DATA	341960000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5215466
+SHUFFLE	COMPRESS_BYTE_COUNT	764833
+SHUFFLE	COPY_MAP_DATA	172007000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5224136
+SHUFFLE	COMPRESS_BYTE_COUNT	766490
+SHUFFLE	COPY_MAP_DATA	531091000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5265344
+SHUFFLE	COMPRESS_BYTE_COUNT	772546
+SHUFFLE	COPY_MAP_DATA	153875000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1221962
+SHUFFLE	COMPRESS_BYTE_COUNT	177196
+SHUFFLE	COPY_MAP_DATA	12370000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5169158
+SHUFFLE	COMPRESS_BYTE_COUNT	758079
+SHUFFLE	COPY_MAP_DATA	2175075000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5184764
+SHUFFLE	COMPRESS_BYTE_COUNT	760198
+SHUFFLE	COPY_MAP_DATA	43809000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5204348
+SHUFFLE	COMPRESS_BYTE_COUNT	762825
+SHUFFLE	COPY_MAP_DATA	61059000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5200370
+SHUFFLE	COMPRESS_BYTE_COUNT	762813
+SHUFFLE	COPY_MAP_DATA	12827318000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1225124
+SHUFFLE	COMPRESS_BYTE_COUNT	177750
+SHUFFLE	COPY_MAP_DATA	28570000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5223626
+SHUFFLE	COMPRESS_BYTE_COUNT	766143
+SHUFFLE	COPY_MAP_DATA	107940000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5178644
+SHUFFLE	COMPRESS_BYTE_COUNT	760171
+SHUFFLE	COPY_MAP_DATA	559217000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5186906
+SHUFFLE	COMPRESS_BYTE_COUNT	760952
+SHUFFLE	COPY_MAP_DATA	97996000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5185886
+SHUFFLE	COMPRESS_BYTE_COUNT	760600
+SHUFFLE	COPY_MAP_DATA	6408407000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1221452
+SHUFFLE	COMPRESS_BYTE_COUNT	177286
+SHUFFLE	COPY_MAP_DATA	59332000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5247290
+SHUFFLE	COMPRESS_BYTE_COUNT	769754
+SHUFFLE	COPY_MAP_DATA	45978000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5223422
+SHUFFLE	COMPRESS_BYTE_COUNT	765785
+SHUFFLE	COPY_MAP_DATA	1496526000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5239538
+SHUFFLE	COMPRESS_BYTE_COUNT	768772
+SHUFFLE	COPY_MAP_DATA	407783000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1223696
+SHUFFLE	COMPRESS_BYTE_COUNT	177586
+SHUFFLE	COPY_MAP_DATA	12636000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5216078
+SHUFFLE	COMPRESS_BYTE_COUNT	765008
+SHUFFLE	COPY_MAP_DATA	886624000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5215874
+SHUFFLE	COMPRESS_BYTE_COUNT	765187
+SHUFFLE	COPY_MAP_DATA	104749000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1210946
+SHUFFLE	COMPRESS_BYTE_COUNT	175574
+SHUFFLE	COPY_MAP_DATA	12925000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5220260
+SHUFFLE	COMPRESS_BYTE_COUNT	765745
+SHUFFLE	COPY_MAP_DATA	45952000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5204348
+SHUFFLE	COMPRESS_BYTE_COUNT	763038
+SHUFFLE	COPY_MAP_DATA	57226000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5217812
+SHUFFLE	COMPRESS_BYTE_COUNT	765151
+SHUFFLE	COPY_MAP_DATA	46554000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5202104
+SHUFFLE	COMPRESS_BYTE_COUNT	763037
+SHUFFLE	COPY_MAP_DATA	130981000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5213120
+SHUFFLE	COMPRESS_BYTE_COUNT	764376
+SHUFFLE	COPY_MAP_DATA	667710000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5221586
+SHUFFLE	COMPRESS_BYTE_COUNT	765701
+SHUFFLE	COPY_MAP_DATA	69923000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5235050
+SHUFFLE	COMPRESS_BYTE_COUNT	767892
+SHUFFLE	COPY_MAP_DATA	92108000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5198840
+SHUFFLE	COMPRESS_BYTE_COUNT	762634
+SHUFFLE	COPY_MAP_DATA	47725000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5156204
+SHUFFLE	COMPRESS_BYTE_COUNT	756335
+SHUFFLE	COPY_MAP_DATA	1424040000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1202072
+SHUFFLE	COMPRESS_BYTE_COUNT	174550
+SHUFFLE	COPY_MAP_DATA	23345000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5207918
+SHUFFLE	COMPRESS_BYTE_COUNT	763769
+SHUFFLE	COPY_MAP_DATA	5765880000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1222778
+SHUFFLE	COMPRESS_BYTE_COUNT	177275
+SHUFFLE	COPY_MAP_DATA	18375000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1242260
+SHUFFLE	COMPRESS_BYTE_COUNT	180324
+SHUFFLE	COPY_MAP_DATA	64018000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5243720
+SHUFFLE	COMPRESS_BYTE_COUNT	768835
+SHUFFLE	COPY_MAP_DATA	3509983000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5209040
+SHUFFLE	COMPRESS_BYTE_COUNT	764128
+SHUFFLE	COPY_MAP_DATA	46424000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5197208
+SHUFFLE	COMPRESS_BYTE_COUNT	762175
+SHUFFLE	COPY_MAP_DATA	45415000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5212100
+SHUFFLE	COMPRESS_BYTE_COUNT	764611
+SHUFFLE	COPY_MAP_DATA	661253000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1221554
+SHUFFLE	COMPRESS_BYTE_COUNT	177312
+SHUFFLE	COPY_MAP_DATA	259906000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5202104
+SHUFFLE	COMPRESS_BYTE_COUNT	762792
+SHUFFLE	COPY_MAP_DATA	7656519000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5188946
+SHUFFLE	COMPRESS_BYTE_COUNT	761012
+SHUFFLE	COPY_MAP_DATA	85039000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5197514
+SHUFFLE	COMPRESS_BYTE_COUNT	761975
+SHUFFLE	COPY_MAP_DATA	11002226000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5226584
+SHUFFLE	COMPRESS_BYTE_COUNT	766019
+SHUFFLE	COPY_MAP_DATA	326898000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1233896
+SHUFFLE	COMPRESS_BYTE_COUNT	179052
+SHUFFLE	COPY_MAP_DATA	480729000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5215874
+SHUFFLE	COMPRESS_BYTE_COUNT	764851
+SHUFFLE	COPY_MAP_DATA	44516000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5177930
+SHUFFLE	COMPRESS_BYTE_COUNT	759782
+SHUFFLE	COPY_MAP_DATA	44388000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1224512
+SHUFFLE	COMPRESS_BYTE_COUNT	177686
+SHUFFLE	COPY_MAP_DATA	11572000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5194760
+SHUFFLE	COMPRESS_BYTE_COUNT	761906
+SHUFFLE	COPY_MAP_DATA	306377000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1218494
+SHUFFLE	COMPRESS_BYTE_COUNT	176820
+SHUFFLE	COPY_MAP_DATA	59262000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5161508
+SHUFFLE	COMPRESS_BYTE_COUNT	757043
+SHUFFLE	COPY_MAP_DATA	43849000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5211182
+SHUFFLE	COMPRESS_BYTE_COUNT	764116
+SHUFFLE	COPY_MAP_DATA	423025000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1222880
+SHUFFLE	COMPRESS_BYTE_COUNT	177353
+SHUFFLE	COPY_MAP_DATA	13644000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1213700
+SHUFFLE	COMPRESS_BYTE_COUNT	176231
+SHUFFLE	COPY_MAP_DATA	11679000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5175278
+SHUFFLE	COMPRESS_BYTE_COUNT	758622
+SHUFFLE	COPY_MAP_DATA	43582000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5185886
+SHUFFLE	COMPRESS_BYTE_COUNT	761138
+SHUFFLE	COPY_MAP_DATA	44198000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1231142
+SHUFFLE	COMPRESS_BYTE_COUNT	178768
+SHUFFLE	COPY_MAP_DATA	12597000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1206866
+SHUFFLE	COMPRESS_BYTE_COUNT	175130
+SHUFFLE	COPY_MAP_DATA	37261000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1246340
+SHUFFLE	COMPRESS_BYTE_COUNT	180739
+SHUFFLE	COPY_MAP_DATA	35601000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1220432
+SHUFFLE	COMPRESS_BYTE_COUNT	177085
+SHUFFLE	COPY_MAP_DATA	11353000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1225430
+SHUFFLE	COMPRESS_BYTE_COUNT	177830
+SHUFFLE	COPY_MAP_DATA	53236000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5219750
+SHUFFLE	COMPRESS_BYTE_COUNT	765749
+SHUFFLE	COPY_MAP_DATA	46396000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1222778
+SHUFFLE	COMPRESS_BYTE_COUNT	177329
+SHUFFLE	COPY_MAP_DATA	12894000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1230020
+SHUFFLE	COMPRESS_BYTE_COUNT	178600
+SHUFFLE	COPY_MAP_DATA	12179000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1236140
+SHUFFLE	COMPRESS_BYTE_COUNT	179497
+SHUFFLE	COPY_MAP_DATA	14026000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5240150
+SHUFFLE	COMPRESS_BYTE_COUNT	768696
+SHUFFLE	COPY_MAP_DATA	48742000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5217506
+SHUFFLE	COMPRESS_BYTE_COUNT	764981
+SHUFFLE	COPY_MAP_DATA	9148049406
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5150798
+SHUFFLE	COMPRESS_BYTE_COUNT	756015
+SHUFFLE	COPY_MAP_DATA	108036000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5202308
+SHUFFLE	COMPRESS_BYTE_COUNT	762789
+SHUFFLE	COPY_MAP_DATA	46500000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5246576
+SHUFFLE	COMPRESS_BYTE_COUNT	769438
+SHUFFLE	COPY_MAP_DATA	90395000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5211080
+SHUFFLE	COMPRESS_BYTE_COUNT	763912
+SHUFFLE	COPY_MAP_DATA	82263000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5210468
+SHUFFLE	COMPRESS_BYTE_COUNT	763841
+SHUFFLE	COPY_MAP_DATA	57846000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1205948
+SHUFFLE	COMPRESS_BYTE_COUNT	175033
+SHUFFLE	COPY_MAP_DATA	247947000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1209926
+SHUFFLE	COMPRESS_BYTE_COUNT	175644
+SHUFFLE	COPY_MAP_DATA	11905000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1208090
+SHUFFLE	COMPRESS_BYTE_COUNT	175270
+SHUFFLE	COPY_MAP_DATA	12622000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1230020
+SHUFFLE	COMPRESS_BYTE_COUNT	178546
+SHUFFLE	COPY_MAP_DATA	12800000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1235528
+SHUFFLE	COMPRESS_BYTE_COUNT	179360
+SHUFFLE	COPY_MAP_DATA	32682000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1227062
+SHUFFLE	COMPRESS_BYTE_COUNT	177957
+SHUFFLE	COPY_MAP_DATA	192431000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1220738
+SHUFFLE	COMPRESS_BYTE_COUNT	177226
+SHUFFLE	COPY_MAP_DATA	12407000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1228388
+SHUFFLE	COMPRESS_BYTE_COUNT	178243
+SHUFFLE	COPY_MAP_DATA	17085000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1243484
+SHUFFLE	COMPRESS_BYTE_COUNT	180436
+SHUFFLE	COPY_MAP_DATA	13881000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1205948
+SHUFFLE	COMPRESS_BYTE_COUNT	174986
+SHUFFLE	COPY_MAP_DATA	511683000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1228388
+SHUFFLE	COMPRESS_BYTE_COUNT	178124
+SHUFFLE	COPY_MAP_DATA	14072000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5176910
+SHUFFLE	COMPRESS_BYTE_COUNT	759156
+SHUFFLE	COPY_MAP_DATA	1318377000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1217270
+SHUFFLE	COMPRESS_BYTE_COUNT	176624
+SHUFFLE	COPY_MAP_DATA	19418000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1227266
+SHUFFLE	COMPRESS_BYTE_COUNT	177988
+SHUFFLE	COPY_MAP_DATA	11802000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1210436
+SHUFFLE	COMPRESS_BYTE_COUNT	175741
+SHUFFLE	COPY_MAP_DATA	341664000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1220330
+SHUFFLE	COMPRESS_BYTE_COUNT	176864
+SHUFFLE	COPY_MAP_DATA	13901000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5197310
+SHUFFLE	COMPRESS_BYTE_COUNT	762315
+SHUFFLE	COPY_MAP_DATA	138002000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1242770
+SHUFFLE	COMPRESS_BYTE_COUNT	180220
+SHUFFLE	COPY_MAP_DATA	485490000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5215466
+SHUFFLE	COMPRESS_BYTE_COUNT	764854
+SHUFFLE	COPY_MAP_DATA	52395000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5200166
+SHUFFLE	COMPRESS_BYTE_COUNT	762981
+SHUFFLE	COPY_MAP_DATA	172309000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1243484
+SHUFFLE	COMPRESS_BYTE_COUNT	180440
+SHUFFLE	COPY_MAP_DATA	32768000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1229918
+SHUFFLE	COMPRESS_BYTE_COUNT	178397
+SHUFFLE	COPY_MAP_DATA	34826000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1239608
+SHUFFLE	COMPRESS_BYTE_COUNT	179978
+SHUFFLE	COPY_MAP_DATA	150438000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1247258
+SHUFFLE	COMPRESS_BYTE_COUNT	180982
+SHUFFLE	COPY_MAP_DATA	251187000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1227776
+SHUFFLE	COMPRESS_BYTE_COUNT	178305
+SHUFFLE	COPY_MAP_DATA	1000041000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1220738
+SHUFFLE	COMPRESS_BYTE_COUNT	177108
+SHUFFLE	COPY_MAP_DATA	14386000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1221656
+SHUFFLE	COMPRESS_BYTE_COUNT	177400
+SHUFFLE	COPY_MAP_DATA	12673000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1210538
+SHUFFLE	COMPRESS_BYTE_COUNT	175704
+SHUFFLE	COPY_MAP_DATA	1340269000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1221146
+SHUFFLE	COMPRESS_BYTE_COUNT	177300
+SHUFFLE	COPY_MAP_DATA	57839000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1218596
+SHUFFLE	COMPRESS_BYTE_COUNT	176950
+SHUFFLE	COPY_MAP_DATA	11955000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1223798
+SHUFFLE	COMPRESS_BYTE_COUNT	177732
+SHUFFLE	COPY_MAP_DATA	22317000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5208938
+SHUFFLE	COMPRESS_BYTE_COUNT	763939
+SHUFFLE	COPY_MAP_DATA	64668000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5191904
+SHUFFLE	COMPRESS_BYTE_COUNT	761432
+SHUFFLE	COPY_MAP_DATA	46424000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1207682
+SHUFFLE	COMPRESS_BYTE_COUNT	175346
+SHUFFLE	COPY_MAP_DATA	402191000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1228694
+SHUFFLE	COMPRESS_BYTE_COUNT	178264
+SHUFFLE	COPY_MAP_DATA	1477937000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1222166
+SHUFFLE	COMPRESS_BYTE_COUNT	177458
+SHUFFLE	COPY_MAP_DATA	13014000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5219240
+SHUFFLE	COMPRESS_BYTE_COUNT	765687
+SHUFFLE	COPY_MAP_DATA	109929000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1199930
+SHUFFLE	COMPRESS_BYTE_COUNT	174129
+SHUFFLE	COPY_MAP_DATA	66753000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1229102
+SHUFFLE	COMPRESS_BYTE_COUNT	178308
+SHUFFLE	COPY_MAP_DATA	29895000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1225226
+SHUFFLE	COMPRESS_BYTE_COUNT	177735
+SHUFFLE	COPY_MAP_DATA	12537000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5207918
+SHUFFLE	COMPRESS_BYTE_COUNT	764163
+SHUFFLE	COPY_MAP_DATA	85869000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1220738
+SHUFFLE	COMPRESS_BYTE_COUNT	177114
+SHUFFLE	COPY_MAP_DATA	66661000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5188334
+SHUFFLE	COMPRESS_BYTE_COUNT	760753
+SHUFFLE	COPY_MAP_DATA	57293000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1215230
+SHUFFLE	COMPRESS_BYTE_COUNT	176370
+SHUFFLE	COPY_MAP_DATA	14594000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1222778
+SHUFFLE	COMPRESS_BYTE_COUNT	177429
+SHUFFLE	COPY_MAP_DATA	14530000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1217168
+SHUFFLE	COMPRESS_BYTE_COUNT	176646
+SHUFFLE	COPY_MAP_DATA	334952000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1235120
+SHUFFLE	COMPRESS_BYTE_COUNT	179190
+SHUFFLE	COPY_MAP_DATA	42328000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1228184
+SHUFFLE	COMPRESS_BYTE_COUNT	178280
+SHUFFLE	COPY_MAP_DATA	13430000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1241546
+SHUFFLE	COMPRESS_BYTE_COUNT	180167
+SHUFFLE	COPY_MAP_DATA	945468000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1224104
+SHUFFLE	COMPRESS_BYTE_COUNT	177761
+SHUFFLE	COPY_MAP_DATA	147388000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5226176
+SHUFFLE	COMPRESS_BYTE_COUNT	766169
+SHUFFLE	COPY_MAP_DATA	46865000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1209314
+SHUFFLE	COMPRESS_BYTE_COUNT	175560
+SHUFFLE	COPY_MAP_DATA	232330000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1227878
+SHUFFLE	COMPRESS_BYTE_COUNT	178116
+SHUFFLE	COPY_MAP_DATA	13122000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1232060
+SHUFFLE	COMPRESS_BYTE_COUNT	178770
+SHUFFLE	COPY_MAP_DATA	12953000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1209926
+SHUFFLE	COMPRESS_BYTE_COUNT	175603
+SHUFFLE	COPY_MAP_DATA	46602000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1212884
+SHUFFLE	COMPRESS_BYTE_COUNT	175934
+SHUFFLE	COPY_MAP_DATA	12641000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1231346
+SHUFFLE	COMPRESS_BYTE_COUNT	178656
+SHUFFLE	COPY_MAP_DATA	12860000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1232264
+SHUFFLE	COMPRESS_BYTE_COUNT	178954
+SHUFFLE	COPY_MAP_DATA	535660000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1213598
+SHUFFLE	COMPRESS_BYTE_COUNT	176234
+SHUFFLE	COPY_MAP_DATA	37987000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1226858
+SHUFFLE	COMPRESS_BYTE_COUNT	177988
+SHUFFLE	COPY_MAP_DATA	468323000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1235936
+SHUFFLE	COMPRESS_BYTE_COUNT	179304
+SHUFFLE	COPY_MAP_DATA	52690000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1220534
+SHUFFLE	COMPRESS_BYTE_COUNT	177030
+SHUFFLE	COPY_MAP_DATA	22590000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1211660
+SHUFFLE	COMPRESS_BYTE_COUNT	175833
+SHUFFLE	COPY_MAP_DATA	11576000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1232366
+SHUFFLE	COMPRESS_BYTE_COUNT	178701
+SHUFFLE	COPY_MAP_DATA	22578000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1212476
+SHUFFLE	COMPRESS_BYTE_COUNT	176025
+SHUFFLE	COPY_MAP_DATA	13481000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1218290
+SHUFFLE	COMPRESS_BYTE_COUNT	176777
+SHUFFLE	COPY_MAP_DATA	23069000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1212578
+SHUFFLE	COMPRESS_BYTE_COUNT	176062
+SHUFFLE	COPY_MAP_DATA	22280000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1214924
+SHUFFLE	COMPRESS_BYTE_COUNT	176200
+SHUFFLE	COPY_MAP_DATA	32522000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1218188
+SHUFFLE	COMPRESS_BYTE_COUNT	176731
+SHUFFLE	COPY_MAP_DATA	21721000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1225328
+SHUFFLE	COMPRESS_BYTE_COUNT	177891
+SHUFFLE	COPY_MAP_DATA	12216000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1199624
+SHUFFLE	COMPRESS_BYTE_COUNT	174242
+SHUFFLE	COPY_MAP_DATA	11895000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1229612
+SHUFFLE	COMPRESS_BYTE_COUNT	178260
+SHUFFLE	COPY_MAP_DATA	12330000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1230530
+SHUFFLE	COMPRESS_BYTE_COUNT	178551
+SHUFFLE	COPY_MAP_DATA	12535000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1224716
+SHUFFLE	COMPRESS_BYTE_COUNT	177692
+SHUFFLE	COPY_MAP_DATA	11309000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1202684
+SHUFFLE	COMPRESS_BYTE_COUNT	174649
+SHUFFLE	COPY_MAP_DATA	57341000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1227878
+SHUFFLE	COMPRESS_BYTE_COUNT	178217
+SHUFFLE	COPY_MAP_DATA	11613000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1215332
+SHUFFLE	COMPRESS_BYTE_COUNT	176312
+SHUFFLE	COPY_MAP_DATA	12958000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1226144
+SHUFFLE	COMPRESS_BYTE_COUNT	177956
+SHUFFLE	COPY_MAP_DATA	12410000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1225634
+SHUFFLE	COMPRESS_BYTE_COUNT	177740
+SHUFFLE	COPY_MAP_DATA	12148000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1229816
+SHUFFLE	COMPRESS_BYTE_COUNT	178464
+SHUFFLE	COPY_MAP_DATA	12322000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1231856
+SHUFFLE	COMPRESS_BYTE_COUNT	178872
+SHUFFLE	COPY_MAP_DATA	12051000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1230530
+SHUFFLE	COMPRESS_BYTE_COUNT	178417
+SHUFFLE	COPY_MAP_DATA	12150000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1223696
+SHUFFLE	COMPRESS_BYTE_COUNT	177674
+SHUFFLE	COPY_MAP_DATA	12170000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1212374
+SHUFFLE	COMPRESS_BYTE_COUNT	175904
+SHUFFLE	COPY_MAP_DATA	22559000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1226042
+SHUFFLE	COMPRESS_BYTE_COUNT	177989
+SHUFFLE	COPY_MAP_DATA	12928000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1223900
+SHUFFLE	COMPRESS_BYTE_COUNT	177639
+SHUFFLE	COPY_MAP_DATA	12486000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1223492
+SHUFFLE	COMPRESS_BYTE_COUNT	177558
+SHUFFLE	COPY_MAP_DATA	11454000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1210538
+SHUFFLE	COMPRESS_BYTE_COUNT	175718
+SHUFFLE	COPY_MAP_DATA	13274000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	254191828406
+MERGE	READ_WRITE	246755182406
+MERGE	READ_WRITE_COUNT	8
+MERGE	COMBINE	0
+MERGE	WRITE	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	6603276000
+SORT	READ_WRITE	6282747000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	231717168
+REDUCE	SETUP	293000
+REDUCE	SETUP_MEM	231717168
+REDUCE	CLEANUP	30000
+REDUCE	CLEANUP_MEM	191208880
+REDUCE	TOTAL_RUN	167923311000
+REDUCE	READ	23192667000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	86013312000
+REDUCE	WRITE	35054434000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	114072880
+REDUCE	VALUE_BYTE_COUNT	1003841344
+REDUCE	REDUCE_MEM	191208880
+REDUCE	WRITE	4580000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	700604617406
@@ -0,0 +1,1229 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5143046
+SHUFFLE	COMPRESS_BYTE_COUNT	754477
+SHUFFLE	COPY_MAP_DATA	4028263000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5126114
+SHUFFLE	COMPRESS_BYTE_COUNT	752296
+SHUFFLE	COPY_MAP_DATA	52584000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5079602
+SHUFFLE	COMPRESS_BYTE_COUNT	745505
+SHUFFLE	COPY_MAP_DATA	86936000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5075318
+SHUFFLE	COMPRESS_BYTE_COUNT	744210
+SHUFFLE	COPY_MAP_DATA	96708000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5098880
+SHUFFLE	COMPRESS_BYTE_COUNT	747174
+SHUFFLE	COPY_MAP_DATA	108111000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5135600
+SHUFFLE	COMPRESS_BYTE_COUNT	752855
+SHUFFLE	COPY_MAP_DATA	54918000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5083376
+SHUFFLE	COMPRESS_BYTE_COUNT	745180
+SHUFFLE	COPY_MAP_DATA	61359000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5087252
+SHUFFLE	COMPRESS_BYTE_COUNT	746563
+SHUFFLE	COPY_MAP_DATA	153376000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5096738
+SHUFFLE	COMPRESS_BYTE_COUNT	747467
+SHUFFLE	COPY_MAP_DATA	193755000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5082866
+SHUFFLE	COMPRESS_BYTE_COUNT	745512
+SHUFFLE	COPY_MAP_DATA	108393000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5115710
+SHUFFLE	COMPRESS_BYTE_COUNT	750566
+SHUFFLE	COPY_MAP_DATA	53143000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5140496
+SHUFFLE	COMPRESS_BYTE_COUNT	753671
+SHUFFLE	COPY_MAP_DATA	65592000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5156612
+SHUFFLE	COMPRESS_BYTE_COUNT	756087
+SHUFFLE	COPY_MAP_DATA	354767000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5125298
+SHUFFLE	COMPRESS_BYTE_COUNT	751874
+SHUFFLE	COPY_MAP_DATA	144331000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5089292
+SHUFFLE	COMPRESS_BYTE_COUNT	746915
+SHUFFLE	COPY_MAP_DATA	46370000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5122646
+SHUFFLE	COMPRESS_BYTE_COUNT	751131
+SHUFFLE	COPY_MAP_DATA	50212000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5066444
+SHUFFLE	COMPRESS_BYTE_COUNT	743348
+SHUFFLE	COPY_MAP_DATA	118304000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5137538
+SHUFFLE	COMPRESS_BYTE_COUNT	753698
+SHUFFLE	COPY_MAP_DATA	45274000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5071340
+SHUFFLE	COMPRESS_BYTE_COUNT	743645
+SHUFFLE	COPY_MAP_DATA	160865000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5100614
+SHUFFLE	COMPRESS_BYTE_COUNT	748050
+SHUFFLE	COPY_MAP_DATA	71095000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5097452
+SHUFFLE	COMPRESS_BYTE_COUNT	747942
+SHUFFLE	COPY_MAP_DATA	112450000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5126318
+SHUFFLE	COMPRESS_BYTE_COUNT	751948
+SHUFFLE	COPY_MAP_DATA	45209000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5078582
+SHUFFLE	COMPRESS_BYTE_COUNT	744799
+SHUFFLE	COPY_MAP_DATA	47805000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5097452
+SHUFFLE	COMPRESS_BYTE_COUNT	747623
+SHUFFLE	COPY_MAP_DATA	1936850000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5099798
+SHUFFLE	COMPRESS_BYTE_COUNT	747748
+SHUFFLE	COPY_MAP_DATA	51063000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5128256
+SHUFFLE	COMPRESS_BYTE_COUNT	752234
+SHUFFLE	COPY_MAP_DATA	49548000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5092046
+SHUFFLE	COMPRESS_BYTE_COUNT	747192
+SHUFFLE	COPY_MAP_DATA	56607000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5111018
+SHUFFLE	COMPRESS_BYTE_COUNT	749653
+SHUFFLE	COPY_MAP_DATA	51970000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5121014
+SHUFFLE	COMPRESS_BYTE_COUNT	751527
+SHUFFLE	COPY_MAP_DATA	542555000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5124380
+SHUFFLE	COMPRESS_BYTE_COUNT	751852
+SHUFFLE	COPY_MAP_DATA	49833000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5137946
+SHUFFLE	COMPRESS_BYTE_COUNT	753477
+SHUFFLE	COPY_MAP_DATA	52921000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5115302
+SHUFFLE	COMPRESS_BYTE_COUNT	750061
+SHUFFLE	COPY_MAP_DATA	52956000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5101634
+SHUFFLE	COMPRESS_BYTE_COUNT	748208
+SHUFFLE	COPY_MAP_DATA	737328000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5069300
+SHUFFLE	COMPRESS_BYTE_COUNT	743612
+SHUFFLE	COPY_MAP_DATA	127729000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5122544
+SHUFFLE	COMPRESS_BYTE_COUNT	751209
+SHUFFLE	COPY_MAP_DATA	281464000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5098880
+SHUFFLE	COMPRESS_BYTE_COUNT	747963
+SHUFFLE	COPY_MAP_DATA	216619000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5115710
+SHUFFLE	COMPRESS_BYTE_COUNT	750756
+SHUFFLE	COPY_MAP_DATA	144157000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5129276
+SHUFFLE	COMPRESS_BYTE_COUNT	752133
+SHUFFLE	COPY_MAP_DATA	42775000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5064914
+SHUFFLE	COMPRESS_BYTE_COUNT	743092
+SHUFFLE	COPY_MAP_DATA	383159000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5087762
+SHUFFLE	COMPRESS_BYTE_COUNT	746547
+SHUFFLE	COPY_MAP_DATA	345750000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5125400
+SHUFFLE	COMPRESS_BYTE_COUNT	752148
+SHUFFLE	COPY_MAP_DATA	50454000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5062466
+SHUFFLE	COMPRESS_BYTE_COUNT	742457
+SHUFFLE	COPY_MAP_DATA	86844000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5097860
+SHUFFLE	COMPRESS_BYTE_COUNT	747492
+SHUFFLE	COPY_MAP_DATA	54003000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5102144
+SHUFFLE	COMPRESS_BYTE_COUNT	748577
+SHUFFLE	COPY_MAP_DATA	296000000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5135192
+SHUFFLE	COMPRESS_BYTE_COUNT	753217
+SHUFFLE	COPY_MAP_DATA	166883000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5112038
+SHUFFLE	COMPRESS_BYTE_COUNT	749911
+SHUFFLE	COPY_MAP_DATA	65006000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5119892
+SHUFFLE	COMPRESS_BYTE_COUNT	750728
+SHUFFLE	COPY_MAP_DATA	101262000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5115506
+SHUFFLE	COMPRESS_BYTE_COUNT	750459
+SHUFFLE	COPY_MAP_DATA	625141000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5138558
+SHUFFLE	COMPRESS_BYTE_COUNT	753862
+SHUFFLE	COPY_MAP_DATA	142257000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5116628
+SHUFFLE	COMPRESS_BYTE_COUNT	749898
+SHUFFLE	COPY_MAP_DATA	231486000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5089190
+SHUFFLE	COMPRESS_BYTE_COUNT	746748
+SHUFFLE	COPY_MAP_DATA	734805000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5108162
+SHUFFLE	COMPRESS_BYTE_COUNT	749370
+SHUFFLE	COPY_MAP_DATA	3486464000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5107856
+SHUFFLE	COMPRESS_BYTE_COUNT	748736
+SHUFFLE	COPY_MAP_DATA	67648000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5120402
+SHUFFLE	COMPRESS_BYTE_COUNT	750829
+SHUFFLE	COPY_MAP_DATA	47102000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5101226
+SHUFFLE	COMPRESS_BYTE_COUNT	743755
+SHUFFLE	COPY_MAP_DATA	7103173000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5120606
+SHUFFLE	COMPRESS_BYTE_COUNT	750980
+SHUFFLE	COPY_MAP_DATA	139836000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5134988
+SHUFFLE	COMPRESS_BYTE_COUNT	752750
+SHUFFLE	COPY_MAP_DATA	1980484000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5084702
+SHUFFLE	COMPRESS_BYTE_COUNT	745911
+SHUFFLE	COPY_MAP_DATA	182720000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5122646
+SHUFFLE	COMPRESS_BYTE_COUNT	751122
+SHUFFLE	COPY_MAP_DATA	154723000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5157020
+SHUFFLE	COMPRESS_BYTE_COUNT	756268
+SHUFFLE	COPY_MAP_DATA	76529000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5113874
+SHUFFLE	COMPRESS_BYTE_COUNT	750396
+SHUFFLE	COPY_MAP_DATA	2559038000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5100920
+SHUFFLE	COMPRESS_BYTE_COUNT	748186
+SHUFFLE	COPY_MAP_DATA	453848000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5107958
+SHUFFLE	COMPRESS_BYTE_COUNT	749468
+SHUFFLE	COPY_MAP_DATA	57539000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5098166
+SHUFFLE	COMPRESS_BYTE_COUNT	747655
+SHUFFLE	COPY_MAP_DATA	45589000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5081132
+SHUFFLE	COMPRESS_BYTE_COUNT	745715
+SHUFFLE	COPY_MAP_DATA	46455000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5099594
+SHUFFLE	COMPRESS_BYTE_COUNT	747826
+SHUFFLE	COPY_MAP_DATA	105125000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5080826
+SHUFFLE	COMPRESS_BYTE_COUNT	745081
+SHUFFLE	COPY_MAP_DATA	46033000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5126522
+SHUFFLE	COMPRESS_BYTE_COUNT	751746
+SHUFFLE	COPY_MAP_DATA	45794000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5137742
+SHUFFLE	COMPRESS_BYTE_COUNT	753857
+SHUFFLE	COPY_MAP_DATA	158865000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5130398
+SHUFFLE	COMPRESS_BYTE_COUNT	752716
+SHUFFLE	COPY_MAP_DATA	148818000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5083682
+SHUFFLE	COMPRESS_BYTE_COUNT	745971
+SHUFFLE	COPY_MAP_DATA	731569000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5102552
+SHUFFLE	COMPRESS_BYTE_COUNT	748858
+SHUFFLE	COPY_MAP_DATA	1154587000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5093270
+SHUFFLE	COMPRESS_BYTE_COUNT	747465
+SHUFFLE	COPY_MAP_DATA	45722000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5119076
+SHUFFLE	COMPRESS_BYTE_COUNT	750245
+SHUFFLE	COPY_MAP_DATA	65533000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5108570
+SHUFFLE	COMPRESS_BYTE_COUNT	748889
+SHUFFLE	COPY_MAP_DATA	45342000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5122748
+SHUFFLE	COMPRESS_BYTE_COUNT	751203
+SHUFFLE	COPY_MAP_DATA	49517000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5084702
+SHUFFLE	COMPRESS_BYTE_COUNT	745357
+SHUFFLE	COPY_MAP_DATA	46850000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5106224
+SHUFFLE	COMPRESS_BYTE_COUNT	749067
+SHUFFLE	COPY_MAP_DATA	508206000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5129378
+SHUFFLE	COMPRESS_BYTE_COUNT	752168
+SHUFFLE	COPY_MAP_DATA	6697416000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5053796
+SHUFFLE	COMPRESS_BYTE_COUNT	741548
+SHUFFLE	COPY_MAP_DATA	43349000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5057468
+SHUFFLE	COMPRESS_BYTE_COUNT	742215
+SHUFFLE	COPY_MAP_DATA	43498000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5105918
+SHUFFLE	COMPRESS_BYTE_COUNT	749307
+SHUFFLE	COPY_MAP_DATA	155863000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5108264
+SHUFFLE	COMPRESS_BYTE_COUNT	749547
+SHUFFLE	COPY_MAP_DATA	72141000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5119994
+SHUFFLE	COMPRESS_BYTE_COUNT	750664
+SHUFFLE	COPY_MAP_DATA	363325000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5093882
+SHUFFLE	COMPRESS_BYTE_COUNT	746909
+SHUFFLE	COPY_MAP_DATA	9943275000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5083172
+SHUFFLE	COMPRESS_BYTE_COUNT	745907
+SHUFFLE	COPY_MAP_DATA	2562795000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5106326
+SHUFFLE	COMPRESS_BYTE_COUNT	748880
+SHUFFLE	COPY_MAP_DATA	48878000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5102246
+SHUFFLE	COMPRESS_BYTE_COUNT	748181
+SHUFFLE	COPY_MAP_DATA	109963000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5106020
+SHUFFLE	COMPRESS_BYTE_COUNT	748822
+SHUFFLE	COPY_MAP_DATA	7638823000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5129582
+SHUFFLE	COMPRESS_BYTE_COUNT	752190
+SHUFFLE	COPY_MAP_DATA	43942000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5068178
+SHUFFLE	COMPRESS_BYTE_COUNT	743366
+SHUFFLE	COPY_MAP_DATA	109287000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5091230
+SHUFFLE	COMPRESS_BYTE_COUNT	746495
+SHUFFLE	COPY_MAP_DATA	294731000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5120810
+SHUFFLE	COMPRESS_BYTE_COUNT	750828
+SHUFFLE	COPY_MAP_DATA	1511533000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5111018
+SHUFFLE	COMPRESS_BYTE_COUNT	749681
+SHUFFLE	COPY_MAP_DATA	71372000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5122952
+SHUFFLE	COMPRESS_BYTE_COUNT	751449
+SHUFFLE	COPY_MAP_DATA	230076000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5105306
+SHUFFLE	COMPRESS_BYTE_COUNT	749093
+SHUFFLE	COPY_MAP_DATA	188344000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5101124
+SHUFFLE	COMPRESS_BYTE_COUNT	748335
+SHUFFLE	COPY_MAP_DATA	58419000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5072462
+SHUFFLE	COMPRESS_BYTE_COUNT	744257
+SHUFFLE	COPY_MAP_DATA	177380000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5100512
+SHUFFLE	COMPRESS_BYTE_COUNT	747794
+SHUFFLE	COPY_MAP_DATA	388207000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5133254
+SHUFFLE	COMPRESS_BYTE_COUNT	752574
+SHUFFLE	COPY_MAP_DATA	116690000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5086334
+SHUFFLE	COMPRESS_BYTE_COUNT	746253
+SHUFFLE	COPY_MAP_DATA	3487238000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5097452
+SHUFFLE	COMPRESS_BYTE_COUNT	747268
+SHUFFLE	COPY_MAP_DATA	63721000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5078684
+SHUFFLE	COMPRESS_BYTE_COUNT	744737
+SHUFFLE	COPY_MAP_DATA	65154000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5137538
+SHUFFLE	COMPRESS_BYTE_COUNT	753717
+SHUFFLE	COPY_MAP_DATA	2086138000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5097350
+SHUFFLE	COMPRESS_BYTE_COUNT	747841
+SHUFFLE	COPY_MAP_DATA	1427380000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5090414
+SHUFFLE	COMPRESS_BYTE_COUNT	746431
+SHUFFLE	COPY_MAP_DATA	1146755000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5088986
+SHUFFLE	COMPRESS_BYTE_COUNT	746521
+SHUFFLE	COPY_MAP_DATA	111719000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5109386
+SHUFFLE	COMPRESS_BYTE_COUNT	749109
+SHUFFLE	COPY_MAP_DATA	59527000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5106938
+SHUFFLE	COMPRESS_BYTE_COUNT	749010
+SHUFFLE	COPY_MAP_DATA	372458000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5103776
+SHUFFLE	COMPRESS_BYTE_COUNT	748825
+SHUFFLE	COPY_MAP_DATA	45988000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5072564
+SHUFFLE	COMPRESS_BYTE_COUNT	744312
+SHUFFLE	COPY_MAP_DATA	211086000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5103062
+SHUFFLE	COMPRESS_BYTE_COUNT	748692
+SHUFFLE	COPY_MAP_DATA	94976000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5123360
+SHUFFLE	COMPRESS_BYTE_COUNT	751570
+SHUFFLE	COPY_MAP_DATA	852142000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5124482
+SHUFFLE	COMPRESS_BYTE_COUNT	751476
+SHUFFLE	COPY_MAP_DATA	260400000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5124482
+SHUFFLE	COMPRESS_BYTE_COUNT	751748
+SHUFFLE	COPY_MAP_DATA	232153000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5121014
+SHUFFLE	COMPRESS_BYTE_COUNT	751495
+SHUFFLE	COPY_MAP_DATA	46534000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5131010
+SHUFFLE	COMPRESS_BYTE_COUNT	752727
+SHUFFLE	COPY_MAP_DATA	2784839000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5119178
+SHUFFLE	COMPRESS_BYTE_COUNT	751169
+SHUFFLE	COPY_MAP_DATA	46421000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5083682
+SHUFFLE	COMPRESS_BYTE_COUNT	745427
+SHUFFLE	COPY_MAP_DATA	45255000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5109794
+SHUFFLE	COMPRESS_BYTE_COUNT	748958
+SHUFFLE	COPY_MAP_DATA	45653000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5094596
+SHUFFLE	COMPRESS_BYTE_COUNT	747664
+SHUFFLE	COPY_MAP_DATA	648805000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5095412
+SHUFFLE	COMPRESS_BYTE_COUNT	747304
+SHUFFLE	COPY_MAP_DATA	65579000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5115404
+SHUFFLE	COMPRESS_BYTE_COUNT	749978
+SHUFFLE	COPY_MAP_DATA	132749000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5098370
+SHUFFLE	COMPRESS_BYTE_COUNT	747334
+SHUFFLE	COPY_MAP_DATA	165999000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5118974
+SHUFFLE	COMPRESS_BYTE_COUNT	750570
+SHUFFLE	COPY_MAP_DATA	53536000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5116322
+SHUFFLE	COMPRESS_BYTE_COUNT	750079
+SHUFFLE	COPY_MAP_DATA	64505000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5064506
+SHUFFLE	COMPRESS_BYTE_COUNT	742957
+SHUFFLE	COPY_MAP_DATA	144964000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5079092
+SHUFFLE	COMPRESS_BYTE_COUNT	745203
+SHUFFLE	COPY_MAP_DATA	43343000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5095718
+SHUFFLE	COMPRESS_BYTE_COUNT	747834
+SHUFFLE	COPY_MAP_DATA	74486000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5092250
+SHUFFLE	COMPRESS_BYTE_COUNT	747288
+SHUFFLE	COPY_MAP_DATA	115121000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5088782
+SHUFFLE	COMPRESS_BYTE_COUNT	746591
+SHUFFLE	COPY_MAP_DATA	327147000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5056346
+SHUFFLE	COMPRESS_BYTE_COUNT	742137
+SHUFFLE	COPY_MAP_DATA	171995000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5081030
+SHUFFLE	COMPRESS_BYTE_COUNT	745536
+SHUFFLE	COPY_MAP_DATA	246589000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5077766
+SHUFFLE	COMPRESS_BYTE_COUNT	744663
+SHUFFLE	COPY_MAP_DATA	851209000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5088374
+SHUFFLE	COMPRESS_BYTE_COUNT	746151
+SHUFFLE	COPY_MAP_DATA	60003000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5075624
+SHUFFLE	COMPRESS_BYTE_COUNT	744262
+SHUFFLE	COPY_MAP_DATA	45795000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5085620
+SHUFFLE	COMPRESS_BYTE_COUNT	738819
+SHUFFLE	COPY_MAP_DATA	55853000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5102144
+SHUFFLE	COMPRESS_BYTE_COUNT	748051
+SHUFFLE	COPY_MAP_DATA	148757000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5125604
+SHUFFLE	COMPRESS_BYTE_COUNT	751346
+SHUFFLE	COPY_MAP_DATA	143389000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5091128
+SHUFFLE	COMPRESS_BYTE_COUNT	746823
+SHUFFLE	COPY_MAP_DATA	398549000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5114588
+SHUFFLE	COMPRESS_BYTE_COUNT	749892
+SHUFFLE	COPY_MAP_DATA	283177000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5125808
+SHUFFLE	COMPRESS_BYTE_COUNT	752057
+SHUFFLE	COPY_MAP_DATA	54748000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5119178
+SHUFFLE	COMPRESS_BYTE_COUNT	751286
+SHUFFLE	COPY_MAP_DATA	998830000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5123768
+SHUFFLE	COMPRESS_BYTE_COUNT	751099
+SHUFFLE	COPY_MAP_DATA	169413000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1194422
+SHUFFLE	COMPRESS_BYTE_COUNT	173466
+SHUFFLE	COPY_MAP_DATA	431790000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5113772
+SHUFFLE	COMPRESS_BYTE_COUNT	749608
+SHUFFLE	COPY_MAP_DATA	51601000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5111630
+SHUFFLE	COMPRESS_BYTE_COUNT	749396
+SHUFFLE	COPY_MAP_DATA	61975000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1211150
+SHUFFLE	COMPRESS_BYTE_COUNT	175737
+SHUFFLE	COPY_MAP_DATA	14754000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5113364
+SHUFFLE	COMPRESS_BYTE_COUNT	750066
+SHUFFLE	COPY_MAP_DATA	10911935000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5099900
+SHUFFLE	COMPRESS_BYTE_COUNT	747881
+SHUFFLE	COPY_MAP_DATA	47565000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1202276
+SHUFFLE	COMPRESS_BYTE_COUNT	174457
+SHUFFLE	COPY_MAP_DATA	127928000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5124686
+SHUFFLE	COMPRESS_BYTE_COUNT	751429
+SHUFFLE	COPY_MAP_DATA	46198000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5106326
+SHUFFLE	COMPRESS_BYTE_COUNT	749026
+SHUFFLE	COPY_MAP_DATA	46546000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5116016
+SHUFFLE	COMPRESS_BYTE_COUNT	750695
+SHUFFLE	COPY_MAP_DATA	219829000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5091230
+SHUFFLE	COMPRESS_BYTE_COUNT	747151
+SHUFFLE	COPY_MAP_DATA	6293018000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5088170
+SHUFFLE	COMPRESS_BYTE_COUNT	746444
+SHUFFLE	COPY_MAP_DATA	49649000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5115404
+SHUFFLE	COMPRESS_BYTE_COUNT	750191
+SHUFFLE	COPY_MAP_DATA	687749000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5111120
+SHUFFLE	COMPRESS_BYTE_COUNT	750152
+SHUFFLE	COPY_MAP_DATA	48335000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1189220
+SHUFFLE	COMPRESS_BYTE_COUNT	172584
+SHUFFLE	COPY_MAP_DATA	20044000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5099594
+SHUFFLE	COMPRESS_BYTE_COUNT	748003
+SHUFFLE	COPY_MAP_DATA	95716000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5097656
+SHUFFLE	COMPRESS_BYTE_COUNT	747432
+SHUFFLE	COPY_MAP_DATA	1195746000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5096432
+SHUFFLE	COMPRESS_BYTE_COUNT	747069
+SHUFFLE	COPY_MAP_DATA	294209000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1222064
+SHUFFLE	COMPRESS_BYTE_COUNT	177234
+SHUFFLE	COPY_MAP_DATA	14366000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5134580
+SHUFFLE	COMPRESS_BYTE_COUNT	753058
+SHUFFLE	COPY_MAP_DATA	45630000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5085824
+SHUFFLE	COMPRESS_BYTE_COUNT	745800
+SHUFFLE	COPY_MAP_DATA	78764000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5116730
+SHUFFLE	COMPRESS_BYTE_COUNT	750537
+SHUFFLE	COPY_MAP_DATA	45655000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5124584
+SHUFFLE	COMPRESS_BYTE_COUNT	751547
+SHUFFLE	COPY_MAP_DATA	46939000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5106122
+SHUFFLE	COMPRESS_BYTE_COUNT	748906
+SHUFFLE	COPY_MAP_DATA	68165000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5105102
+SHUFFLE	COMPRESS_BYTE_COUNT	748891
+SHUFFLE	COPY_MAP_DATA	69589000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5072972
+SHUFFLE	COMPRESS_BYTE_COUNT	743790
+SHUFFLE	COPY_MAP_DATA	5251222000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5109488
+SHUFFLE	COMPRESS_BYTE_COUNT	749981
+SHUFFLE	COPY_MAP_DATA	49944000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5100920
+SHUFFLE	COMPRESS_BYTE_COUNT	747773
+SHUFFLE	COPY_MAP_DATA	5769664000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1206050
+SHUFFLE	COMPRESS_BYTE_COUNT	175162
+SHUFFLE	COPY_MAP_DATA	13309000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1197380
+SHUFFLE	COMPRESS_BYTE_COUNT	173903
+SHUFFLE	COPY_MAP_DATA	2859303000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1189424
+SHUFFLE	COMPRESS_BYTE_COUNT	172609
+SHUFFLE	COPY_MAP_DATA	37672000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5121728
+SHUFFLE	COMPRESS_BYTE_COUNT	751328
+SHUFFLE	COPY_MAP_DATA	213561000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5143046
+SHUFFLE	COMPRESS_BYTE_COUNT	754177
+SHUFFLE	COPY_MAP_DATA	217766000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5108672
+SHUFFLE	COMPRESS_BYTE_COUNT	749378
+SHUFFLE	COPY_MAP_DATA	2044022000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5078582
+SHUFFLE	COMPRESS_BYTE_COUNT	744944
+SHUFFLE	COPY_MAP_DATA	1032765000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1223084
+SHUFFLE	COMPRESS_BYTE_COUNT	177543
+SHUFFLE	COPY_MAP_DATA	13570000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5079704
+SHUFFLE	COMPRESS_BYTE_COUNT	744526
+SHUFFLE	COPY_MAP_DATA	361426000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5094086
+SHUFFLE	COMPRESS_BYTE_COUNT	747256
+SHUFFLE	COPY_MAP_DATA	6843501000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5125196
+SHUFFLE	COMPRESS_BYTE_COUNT	751529
+SHUFFLE	COPY_MAP_DATA	1045070000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1208498
+SHUFFLE	COMPRESS_BYTE_COUNT	175481
+SHUFFLE	COPY_MAP_DATA	3050963000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5146106
+SHUFFLE	COMPRESS_BYTE_COUNT	754817
+SHUFFLE	COPY_MAP_DATA	4211261000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5087762
+SHUFFLE	COMPRESS_BYTE_COUNT	745740
+SHUFFLE	COPY_MAP_DATA	2325477000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5112956
+SHUFFLE	COMPRESS_BYTE_COUNT	750185
+SHUFFLE	COPY_MAP_DATA	87932000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5100410
+SHUFFLE	COMPRESS_BYTE_COUNT	748278
+SHUFFLE	COPY_MAP_DATA	45170000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5115914
+SHUFFLE	COMPRESS_BYTE_COUNT	750093
+SHUFFLE	COPY_MAP_DATA	66198000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5103572
+SHUFFLE	COMPRESS_BYTE_COUNT	748755
+SHUFFLE	COPY_MAP_DATA	45099000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1183406
+SHUFFLE	COMPRESS_BYTE_COUNT	171685
+SHUFFLE	COPY_MAP_DATA	57845000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1201052
+SHUFFLE	COMPRESS_BYTE_COUNT	174212
+SHUFFLE	COPY_MAP_DATA	737552000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5117240
+SHUFFLE	COMPRESS_BYTE_COUNT	750344
+SHUFFLE	COPY_MAP_DATA	45202000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1186976
+SHUFFLE	COMPRESS_BYTE_COUNT	172189
+SHUFFLE	COPY_MAP_DATA	180066000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1215332
+SHUFFLE	COMPRESS_BYTE_COUNT	176469
+SHUFFLE	COPY_MAP_DATA	402126000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5151002
+SHUFFLE	COMPRESS_BYTE_COUNT	755700
+SHUFFLE	COPY_MAP_DATA	269491000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1198706
+SHUFFLE	COMPRESS_BYTE_COUNT	173945
+SHUFFLE	COPY_MAP_DATA	14106000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1210028
+SHUFFLE	COMPRESS_BYTE_COUNT	175469
+SHUFFLE	COPY_MAP_DATA	14611000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5102654
+SHUFFLE	COMPRESS_BYTE_COUNT	748840
+SHUFFLE	COPY_MAP_DATA	48438000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1199522
+SHUFFLE	COMPRESS_BYTE_COUNT	174148
+SHUFFLE	COPY_MAP_DATA	13104000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1198400
+SHUFFLE	COMPRESS_BYTE_COUNT	174011
+SHUFFLE	COPY_MAP_DATA	965907000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1186160
+SHUFFLE	COMPRESS_BYTE_COUNT	172266
+SHUFFLE	COPY_MAP_DATA	12860000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1206254
+SHUFFLE	COMPRESS_BYTE_COUNT	175028
+SHUFFLE	COPY_MAP_DATA	24337000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5137436
+SHUFFLE	COMPRESS_BYTE_COUNT	753045
+SHUFFLE	COPY_MAP_DATA	64129000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1207172
+SHUFFLE	COMPRESS_BYTE_COUNT	175227
+SHUFFLE	COPY_MAP_DATA	13718000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5126624
+SHUFFLE	COMPRESS_BYTE_COUNT	751831
+SHUFFLE	COPY_MAP_DATA	46190000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5103368
+SHUFFLE	COMPRESS_BYTE_COUNT	749011
+SHUFFLE	COPY_MAP_DATA	59842000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1198706
+SHUFFLE	COMPRESS_BYTE_COUNT	173917
+SHUFFLE	COPY_MAP_DATA	12287000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1207274
+SHUFFLE	COMPRESS_BYTE_COUNT	175248
+SHUFFLE	COPY_MAP_DATA	9070246000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5123870
+SHUFFLE	COMPRESS_BYTE_COUNT	751490
+SHUFFLE	COPY_MAP_DATA	53542000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1220228
+SHUFFLE	COMPRESS_BYTE_COUNT	177166
+SHUFFLE	COPY_MAP_DATA	100204000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5096942
+SHUFFLE	COMPRESS_BYTE_COUNT	748194
+SHUFFLE	COPY_MAP_DATA	198898000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1194116
+SHUFFLE	COMPRESS_BYTE_COUNT	173361
+SHUFFLE	COPY_MAP_DATA	230854000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1190852
+SHUFFLE	COMPRESS_BYTE_COUNT	172876
+SHUFFLE	COPY_MAP_DATA	15013000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5125094
+SHUFFLE	COMPRESS_BYTE_COUNT	751270
+SHUFFLE	COPY_MAP_DATA	50969000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5111936
+SHUFFLE	COMPRESS_BYTE_COUNT	749601
+SHUFFLE	COPY_MAP_DATA	373723000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1199318
+SHUFFLE	COMPRESS_BYTE_COUNT	174055
+SHUFFLE	COPY_MAP_DATA	72087000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1204928
+SHUFFLE	COMPRESS_BYTE_COUNT	174967
+SHUFFLE	COPY_MAP_DATA	52142000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1191056
+SHUFFLE	COMPRESS_BYTE_COUNT	172933
+SHUFFLE	COPY_MAP_DATA	273034000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1219616
+SHUFFLE	COMPRESS_BYTE_COUNT	177047
+SHUFFLE	COPY_MAP_DATA	198343000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1218800
+SHUFFLE	COMPRESS_BYTE_COUNT	176836
+SHUFFLE	COPY_MAP_DATA	38007000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1197176
+SHUFFLE	COMPRESS_BYTE_COUNT	173891
+SHUFFLE	COPY_MAP_DATA	14087000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1192994
+SHUFFLE	COMPRESS_BYTE_COUNT	173142
+SHUFFLE	COPY_MAP_DATA	19401000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1186364
+SHUFFLE	COMPRESS_BYTE_COUNT	172210
+SHUFFLE	COPY_MAP_DATA	13015000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1205234
+SHUFFLE	COMPRESS_BYTE_COUNT	174915
+SHUFFLE	COPY_MAP_DATA	17419000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1211864
+SHUFFLE	COMPRESS_BYTE_COUNT	175847
+SHUFFLE	COPY_MAP_DATA	12557000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5121218
+SHUFFLE	COMPRESS_BYTE_COUNT	750888
+SHUFFLE	COPY_MAP_DATA	1236531000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5121014
+SHUFFLE	COMPRESS_BYTE_COUNT	751152
+SHUFFLE	COPY_MAP_DATA	548720000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1208090
+SHUFFLE	COMPRESS_BYTE_COUNT	175297
+SHUFFLE	COPY_MAP_DATA	10017506000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1189220
+SHUFFLE	COMPRESS_BYTE_COUNT	172659
+SHUFFLE	COPY_MAP_DATA	29440000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5114588
+SHUFFLE	COMPRESS_BYTE_COUNT	749976
+SHUFFLE	COPY_MAP_DATA	71957000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1199012
+SHUFFLE	COMPRESS_BYTE_COUNT	174077
+SHUFFLE	COPY_MAP_DATA	133517000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1210844
+SHUFFLE	COMPRESS_BYTE_COUNT	175853
+SHUFFLE	COPY_MAP_DATA	14929000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1202582
+SHUFFLE	COMPRESS_BYTE_COUNT	174606
+SHUFFLE	COPY_MAP_DATA	327969000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1212884
+SHUFFLE	COMPRESS_BYTE_COUNT	176000
+SHUFFLE	COPY_MAP_DATA	13023000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1179428
+SHUFFLE	COMPRESS_BYTE_COUNT	171204
+SHUFFLE	COPY_MAP_DATA	327221000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1199114
+SHUFFLE	COMPRESS_BYTE_COUNT	174135
+SHUFFLE	COPY_MAP_DATA	13513000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1205948
+SHUFFLE	COMPRESS_BYTE_COUNT	175127
+SHUFFLE	COPY_MAP_DATA	1210037000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5055122
+SHUFFLE	COMPRESS_BYTE_COUNT	741739
+SHUFFLE	COPY_MAP_DATA	520178000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1190852
+SHUFFLE	COMPRESS_BYTE_COUNT	173028
+SHUFFLE	COPY_MAP_DATA	75393000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1213088
+SHUFFLE	COMPRESS_BYTE_COUNT	176273
+SHUFFLE	COPY_MAP_DATA	329417000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1214720
+SHUFFLE	COMPRESS_BYTE_COUNT	176366
+SHUFFLE	COPY_MAP_DATA	26864000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1201868
+SHUFFLE	COMPRESS_BYTE_COUNT	174326
+SHUFFLE	COPY_MAP_DATA	1233200000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5105102
+SHUFFLE	COMPRESS_BYTE_COUNT	748722
+SHUFFLE	COPY_MAP_DATA	2524363000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5127134
+SHUFFLE	COMPRESS_BYTE_COUNT	751523
+SHUFFLE	COPY_MAP_DATA	173201000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1197380
+SHUFFLE	COMPRESS_BYTE_COUNT	173805
+SHUFFLE	COPY_MAP_DATA	117736000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5080316
+SHUFFLE	COMPRESS_BYTE_COUNT	744984
+SHUFFLE	COPY_MAP_DATA	65615000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1210946
+SHUFFLE	COMPRESS_BYTE_COUNT	175736
+SHUFFLE	COPY_MAP_DATA	24769000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1193402
+SHUFFLE	COMPRESS_BYTE_COUNT	173217
+SHUFFLE	COPY_MAP_DATA	2252962000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1176062
+SHUFFLE	COMPRESS_BYTE_COUNT	170618
+SHUFFLE	COPY_MAP_DATA	12858000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5113772
+SHUFFLE	COMPRESS_BYTE_COUNT	750165
+SHUFFLE	COPY_MAP_DATA	44061000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5096330
+SHUFFLE	COMPRESS_BYTE_COUNT	747182
+SHUFFLE	COPY_MAP_DATA	44254000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1222574
+SHUFFLE	COMPRESS_BYTE_COUNT	177543
+SHUFFLE	COPY_MAP_DATA	11748000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1209008
+SHUFFLE	COMPRESS_BYTE_COUNT	175474
+SHUFFLE	COPY_MAP_DATA	12545000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1212170
+SHUFFLE	COMPRESS_BYTE_COUNT	175893
+SHUFFLE	COPY_MAP_DATA	29368000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1208396
+SHUFFLE	COMPRESS_BYTE_COUNT	175431
+SHUFFLE	COPY_MAP_DATA	11752000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1207886
+SHUFFLE	COMPRESS_BYTE_COUNT	175256
+SHUFFLE	COPY_MAP_DATA	14577000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1202990
+SHUFFLE	COMPRESS_BYTE_COUNT	174632
+SHUFFLE	COPY_MAP_DATA	40428000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1179938
+SHUFFLE	COMPRESS_BYTE_COUNT	171371
+SHUFFLE	COPY_MAP_DATA	13179000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1205336
+SHUFFLE	COMPRESS_BYTE_COUNT	174997
+SHUFFLE	COPY_MAP_DATA	12320000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1196258
+SHUFFLE	COMPRESS_BYTE_COUNT	173752
+SHUFFLE	COPY_MAP_DATA	12483000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1203500
+SHUFFLE	COMPRESS_BYTE_COUNT	174768
+SHUFFLE	COPY_MAP_DATA	1575722000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1206356
+SHUFFLE	COMPRESS_BYTE_COUNT	175110
+SHUFFLE	COPY_MAP_DATA	13213000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1199624
+SHUFFLE	COMPRESS_BYTE_COUNT	174235
+SHUFFLE	COPY_MAP_DATA	16537000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1195136
+SHUFFLE	COMPRESS_BYTE_COUNT	173608
+SHUFFLE	COPY_MAP_DATA	34022000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1201868
+SHUFFLE	COMPRESS_BYTE_COUNT	174396
+SHUFFLE	COPY_MAP_DATA	25715000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5092658
+SHUFFLE	COMPRESS_BYTE_COUNT	746977
+SHUFFLE	COPY_MAP_DATA	55158000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1205438
+SHUFFLE	COMPRESS_BYTE_COUNT	174961
+SHUFFLE	COPY_MAP_DATA	31534000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1198808
+SHUFFLE	COMPRESS_BYTE_COUNT	174202
+SHUFFLE	COPY_MAP_DATA	19564000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1201664
+SHUFFLE	COMPRESS_BYTE_COUNT	174349
+SHUFFLE	COPY_MAP_DATA	15213000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1207988
+SHUFFLE	COMPRESS_BYTE_COUNT	175417
+SHUFFLE	COPY_MAP_DATA	14827000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1199216
+SHUFFLE	COMPRESS_BYTE_COUNT	174039
+SHUFFLE	COPY_MAP_DATA	11292000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1188098
+SHUFFLE	COMPRESS_BYTE_COUNT	172575
+SHUFFLE	COPY_MAP_DATA	170842000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1206866
+SHUFFLE	COMPRESS_BYTE_COUNT	175087
+SHUFFLE	COPY_MAP_DATA	1128930000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1216658
+SHUFFLE	COMPRESS_BYTE_COUNT	176534
+SHUFFLE	COPY_MAP_DATA	11109000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1205132
+SHUFFLE	COMPRESS_BYTE_COUNT	174904
+SHUFFLE	COPY_MAP_DATA	12151000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1195442
+SHUFFLE	COMPRESS_BYTE_COUNT	173630
+SHUFFLE	COPY_MAP_DATA	13476000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1198094
+SHUFFLE	COMPRESS_BYTE_COUNT	173920
+SHUFFLE	COPY_MAP_DATA	22519000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1203908
+SHUFFLE	COMPRESS_BYTE_COUNT	174822
+SHUFFLE	COPY_MAP_DATA	12837000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1189730
+SHUFFLE	COMPRESS_BYTE_COUNT	172698
+SHUFFLE	COPY_MAP_DATA	12083000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1199930
+SHUFFLE	COMPRESS_BYTE_COUNT	174187
+SHUFFLE	COPY_MAP_DATA	14403000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1189016
+SHUFFLE	COMPRESS_BYTE_COUNT	172548
+SHUFFLE	COPY_MAP_DATA	13595000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1200644
+SHUFFLE	COMPRESS_BYTE_COUNT	174274
+SHUFFLE	COPY_MAP_DATA	274823000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1203092
+SHUFFLE	COMPRESS_BYTE_COUNT	174558
+SHUFFLE	COPY_MAP_DATA	32132000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1206866
+SHUFFLE	COMPRESS_BYTE_COUNT	175146
+SHUFFLE	COPY_MAP_DATA	16006000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1198502
+SHUFFLE	COMPRESS_BYTE_COUNT	174051
+SHUFFLE	COPY_MAP_DATA	87618000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1188812
+SHUFFLE	COMPRESS_BYTE_COUNT	172504
+SHUFFLE	COPY_MAP_DATA	25331000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1178000
+SHUFFLE	COMPRESS_BYTE_COUNT	171002
+SHUFFLE	COPY_MAP_DATA	13924000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1194014
+SHUFFLE	COMPRESS_BYTE_COUNT	173355
+SHUFFLE	COPY_MAP_DATA	14311000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1205846
+SHUFFLE	COMPRESS_BYTE_COUNT	175036
+SHUFFLE	COPY_MAP_DATA	26419000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1208498
+SHUFFLE	COMPRESS_BYTE_COUNT	175471
+SHUFFLE	COPY_MAP_DATA	13011000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1208090
+SHUFFLE	COMPRESS_BYTE_COUNT	175486
+SHUFFLE	COPY_MAP_DATA	14084000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1206968
+SHUFFLE	COMPRESS_BYTE_COUNT	175153
+SHUFFLE	COPY_MAP_DATA	453877000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1211252
+SHUFFLE	COMPRESS_BYTE_COUNT	175759
+SHUFFLE	COPY_MAP_DATA	12369000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1184732
+SHUFFLE	COMPRESS_BYTE_COUNT	171949
+SHUFFLE	COPY_MAP_DATA	209399000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1207274
+SHUFFLE	COMPRESS_BYTE_COUNT	175174
+SHUFFLE	COPY_MAP_DATA	34247000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1193708
+SHUFFLE	COMPRESS_BYTE_COUNT	173215
+SHUFFLE	COPY_MAP_DATA	750266000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1205642
+SHUFFLE	COMPRESS_BYTE_COUNT	175108
+SHUFFLE	COPY_MAP_DATA	12776000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1196156
+SHUFFLE	COMPRESS_BYTE_COUNT	173604
+SHUFFLE	COPY_MAP_DATA	11671000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1208600
+SHUFFLE	COMPRESS_BYTE_COUNT	175371
+SHUFFLE	COPY_MAP_DATA	13427000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	298260327000
+MERGE	READ_WRITE	289897936000
+MERGE	READ_WRITE_COUNT	8
+MERGE	COMBINE	0
+MERGE	WRITE	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	2201479000
+SORT	READ_WRITE	2114753000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	214993424
+REDUCE	SETUP	4655000
+REDUCE	SETUP_MEM	214993424
+REDUCE	CLEANUP	28000
+REDUCE	CLEANUP_MEM	158930728
+REDUCE	TOTAL_RUN	170221788000
+REDUCE	READ	24431588000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	86938099000
+REDUCE	WRITE	34381630000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	111893140
+REDUCE	VALUE_BYTE_COUNT	984659632
+REDUCE	REDUCE_MEM	158932776
+REDUCE	WRITE	3933000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	707728561000
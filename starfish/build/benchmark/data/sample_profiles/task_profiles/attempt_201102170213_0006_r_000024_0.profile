@@ -0,0 +1,1229 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4924154
+SHUFFLE	COMPRESS_BYTE_COUNT	721894
+SHUFFLE	COPY_MAP_DATA	164953000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4910180
+SHUFFLE	COMPRESS_BYTE_COUNT	720524
+SHUFFLE	COPY_MAP_DATA	220249000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4878764
+SHUFFLE	COMPRESS_BYTE_COUNT	715461
+SHUFFLE	COPY_MAP_DATA	99769000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4900082
+SHUFFLE	COMPRESS_BYTE_COUNT	718995
+SHUFFLE	COPY_MAP_DATA	55109000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4900490
+SHUFFLE	COMPRESS_BYTE_COUNT	719134
+SHUFFLE	COPY_MAP_DATA	83894000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4855916
+SHUFFLE	COMPRESS_BYTE_COUNT	712689
+SHUFFLE	COPY_MAP_DATA	716786000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4864994
+SHUFFLE	COMPRESS_BYTE_COUNT	713571
+SHUFFLE	COPY_MAP_DATA	68871000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4907018
+SHUFFLE	COMPRESS_BYTE_COUNT	719851
+SHUFFLE	COPY_MAP_DATA	632807000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4879886
+SHUFFLE	COMPRESS_BYTE_COUNT	716354
+SHUFFLE	COPY_MAP_DATA	128715000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4815116
+SHUFFLE	COMPRESS_BYTE_COUNT	706152
+SHUFFLE	COPY_MAP_DATA	173243000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4868258
+SHUFFLE	COMPRESS_BYTE_COUNT	714181
+SHUFFLE	COPY_MAP_DATA	253038000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4860404
+SHUFFLE	COMPRESS_BYTE_COUNT	712428
+SHUFFLE	COPY_MAP_DATA	245700000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4884578
+SHUFFLE	COMPRESS_BYTE_COUNT	716501
+SHUFFLE	COPY_MAP_DATA	86814000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4837964
+SHUFFLE	COMPRESS_BYTE_COUNT	709326
+SHUFFLE	COPY_MAP_DATA	74087000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4885598
+SHUFFLE	COMPRESS_BYTE_COUNT	716047
+SHUFFLE	COPY_MAP_DATA	46207000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4856018
+SHUFFLE	COMPRESS_BYTE_COUNT	712686
+SHUFFLE	COPY_MAP_DATA	51668000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4893758
+SHUFFLE	COMPRESS_BYTE_COUNT	717267
+SHUFFLE	COPY_MAP_DATA	51264000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4919972
+SHUFFLE	COMPRESS_BYTE_COUNT	721450
+SHUFFLE	COPY_MAP_DATA	49991000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4870910
+SHUFFLE	COMPRESS_BYTE_COUNT	714345
+SHUFFLE	COPY_MAP_DATA	294464000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4866320
+SHUFFLE	COMPRESS_BYTE_COUNT	713848
+SHUFFLE	COPY_MAP_DATA	65498000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4912526
+SHUFFLE	COMPRESS_BYTE_COUNT	720910
+SHUFFLE	COPY_MAP_DATA	51959000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4860914
+SHUFFLE	COMPRESS_BYTE_COUNT	713345
+SHUFFLE	COPY_MAP_DATA	46229000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4886108
+SHUFFLE	COMPRESS_BYTE_COUNT	716857
+SHUFFLE	COPY_MAP_DATA	199901000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4889678
+SHUFFLE	COMPRESS_BYTE_COUNT	717090
+SHUFFLE	COPY_MAP_DATA	50090000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4882742
+SHUFFLE	COMPRESS_BYTE_COUNT	716043
+SHUFFLE	COPY_MAP_DATA	46325000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4878050
+SHUFFLE	COMPRESS_BYTE_COUNT	715530
+SHUFFLE	COPY_MAP_DATA	47125000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4909058
+SHUFFLE	COMPRESS_BYTE_COUNT	720038
+SHUFFLE	COPY_MAP_DATA	70030000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4868870
+SHUFFLE	COMPRESS_BYTE_COUNT	714400
+SHUFFLE	COPY_MAP_DATA	311393000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4895084
+SHUFFLE	COMPRESS_BYTE_COUNT	718591
+SHUFFLE	COPY_MAP_DATA	216408000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4906406
+SHUFFLE	COMPRESS_BYTE_COUNT	719970
+SHUFFLE	COPY_MAP_DATA	58567000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4888352
+SHUFFLE	COMPRESS_BYTE_COUNT	717262
+SHUFFLE	COPY_MAP_DATA	229032000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4873256
+SHUFFLE	COMPRESS_BYTE_COUNT	714971
+SHUFFLE	COPY_MAP_DATA	46642000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4867850
+SHUFFLE	COMPRESS_BYTE_COUNT	713738
+SHUFFLE	COPY_MAP_DATA	47071000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4890188
+SHUFFLE	COMPRESS_BYTE_COUNT	717084
+SHUFFLE	COPY_MAP_DATA	69384000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4913750
+SHUFFLE	COMPRESS_BYTE_COUNT	721086
+SHUFFLE	COPY_MAP_DATA	180889000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4895900
+SHUFFLE	COMPRESS_BYTE_COUNT	717968
+SHUFFLE	COPY_MAP_DATA	167326000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4918238
+SHUFFLE	COMPRESS_BYTE_COUNT	721648
+SHUFFLE	COPY_MAP_DATA	1727446000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4865912
+SHUFFLE	COMPRESS_BYTE_COUNT	713483
+SHUFFLE	COPY_MAP_DATA	373805000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4929458
+SHUFFLE	COMPRESS_BYTE_COUNT	722855
+SHUFFLE	COPY_MAP_DATA	674178000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4884986
+SHUFFLE	COMPRESS_BYTE_COUNT	716533
+SHUFFLE	COPY_MAP_DATA	48563000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4840310
+SHUFFLE	COMPRESS_BYTE_COUNT	710163
+SHUFFLE	COPY_MAP_DATA	101092000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4863668
+SHUFFLE	COMPRESS_BYTE_COUNT	713736
+SHUFFLE	COPY_MAP_DATA	2905772000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4884884
+SHUFFLE	COMPRESS_BYTE_COUNT	716420
+SHUFFLE	COPY_MAP_DATA	93146000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4859078
+SHUFFLE	COMPRESS_BYTE_COUNT	712632
+SHUFFLE	COPY_MAP_DATA	351709000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4869176
+SHUFFLE	COMPRESS_BYTE_COUNT	714322
+SHUFFLE	COPY_MAP_DATA	41761000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4857344
+SHUFFLE	COMPRESS_BYTE_COUNT	712744
+SHUFFLE	COPY_MAP_DATA	41437000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4882028
+SHUFFLE	COMPRESS_BYTE_COUNT	716387
+SHUFFLE	COPY_MAP_DATA	42618000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4892840
+SHUFFLE	COMPRESS_BYTE_COUNT	717713
+SHUFFLE	COPY_MAP_DATA	52284000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4857752
+SHUFFLE	COMPRESS_BYTE_COUNT	712408
+SHUFFLE	COPY_MAP_DATA	149386000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4876316
+SHUFFLE	COMPRESS_BYTE_COUNT	715185
+SHUFFLE	COPY_MAP_DATA	42525000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4858670
+SHUFFLE	COMPRESS_BYTE_COUNT	713102
+SHUFFLE	COPY_MAP_DATA	42461000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4845614
+SHUFFLE	COMPRESS_BYTE_COUNT	710884
+SHUFFLE	COPY_MAP_DATA	45094000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4842350
+SHUFFLE	COMPRESS_BYTE_COUNT	710396
+SHUFFLE	COPY_MAP_DATA	1710078000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4900082
+SHUFFLE	COMPRESS_BYTE_COUNT	718948
+SHUFFLE	COPY_MAP_DATA	75752000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4877540
+SHUFFLE	COMPRESS_BYTE_COUNT	715126
+SHUFFLE	COPY_MAP_DATA	143481000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4868768
+SHUFFLE	COMPRESS_BYTE_COUNT	714090
+SHUFFLE	COPY_MAP_DATA	4808615000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4865402
+SHUFFLE	COMPRESS_BYTE_COUNT	709238
+SHUFFLE	COPY_MAP_DATA	50636000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4889372
+SHUFFLE	COMPRESS_BYTE_COUNT	716925
+SHUFFLE	COPY_MAP_DATA	46308000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4872848
+SHUFFLE	COMPRESS_BYTE_COUNT	714561
+SHUFFLE	COPY_MAP_DATA	2654583000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4890800
+SHUFFLE	COMPRESS_BYTE_COUNT	717574
+SHUFFLE	COPY_MAP_DATA	49025000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4889780
+SHUFFLE	COMPRESS_BYTE_COUNT	717510
+SHUFFLE	COPY_MAP_DATA	131425000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4823888
+SHUFFLE	COMPRESS_BYTE_COUNT	707341
+SHUFFLE	COPY_MAP_DATA	44855000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4870298
+SHUFFLE	COMPRESS_BYTE_COUNT	714477
+SHUFFLE	COPY_MAP_DATA	44530000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4911812
+SHUFFLE	COMPRESS_BYTE_COUNT	720276
+SHUFFLE	COPY_MAP_DATA	108205000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4849898
+SHUFFLE	COMPRESS_BYTE_COUNT	711578
+SHUFFLE	COPY_MAP_DATA	50143000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4879886
+SHUFFLE	COMPRESS_BYTE_COUNT	716099
+SHUFFLE	COPY_MAP_DATA	385282000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4875194
+SHUFFLE	COMPRESS_BYTE_COUNT	715316
+SHUFFLE	COPY_MAP_DATA	111114000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4888250
+SHUFFLE	COMPRESS_BYTE_COUNT	716992
+SHUFFLE	COPY_MAP_DATA	43368000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4892534
+SHUFFLE	COMPRESS_BYTE_COUNT	717874
+SHUFFLE	COPY_MAP_DATA	107590000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4887638
+SHUFFLE	COMPRESS_BYTE_COUNT	716455
+SHUFFLE	COPY_MAP_DATA	119916000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4850204
+SHUFFLE	COMPRESS_BYTE_COUNT	711407
+SHUFFLE	COPY_MAP_DATA	89511000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4871420
+SHUFFLE	COMPRESS_BYTE_COUNT	714890
+SHUFFLE	COPY_MAP_DATA	202223000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4900592
+SHUFFLE	COMPRESS_BYTE_COUNT	718877
+SHUFFLE	COPY_MAP_DATA	111300000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4879682
+SHUFFLE	COMPRESS_BYTE_COUNT	715331
+SHUFFLE	COPY_MAP_DATA	752797000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4919972
+SHUFFLE	COMPRESS_BYTE_COUNT	721445
+SHUFFLE	COPY_MAP_DATA	323968000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4861934
+SHUFFLE	COMPRESS_BYTE_COUNT	713480
+SHUFFLE	COPY_MAP_DATA	89941000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4881620
+SHUFFLE	COMPRESS_BYTE_COUNT	716366
+SHUFFLE	COPY_MAP_DATA	6045088000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4877540
+SHUFFLE	COMPRESS_BYTE_COUNT	715315
+SHUFFLE	COPY_MAP_DATA	6720560000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4891820
+SHUFFLE	COMPRESS_BYTE_COUNT	717569
+SHUFFLE	COPY_MAP_DATA	45229000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4838270
+SHUFFLE	COMPRESS_BYTE_COUNT	710003
+SHUFFLE	COPY_MAP_DATA	52752000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4884374
+SHUFFLE	COMPRESS_BYTE_COUNT	716601
+SHUFFLE	COPY_MAP_DATA	188564000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4919972
+SHUFFLE	COMPRESS_BYTE_COUNT	721830
+SHUFFLE	COPY_MAP_DATA	110390000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4881620
+SHUFFLE	COMPRESS_BYTE_COUNT	715914
+SHUFFLE	COPY_MAP_DATA	45393000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4865096
+SHUFFLE	COMPRESS_BYTE_COUNT	713440
+SHUFFLE	COPY_MAP_DATA	9449384000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4931600
+SHUFFLE	COMPRESS_BYTE_COUNT	723491
+SHUFFLE	COPY_MAP_DATA	45000000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4889372
+SHUFFLE	COMPRESS_BYTE_COUNT	716690
+SHUFFLE	COPY_MAP_DATA	45488000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4881110
+SHUFFLE	COMPRESS_BYTE_COUNT	715892
+SHUFFLE	COPY_MAP_DATA	52801000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4875806
+SHUFFLE	COMPRESS_BYTE_COUNT	714659
+SHUFFLE	COPY_MAP_DATA	17612587000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4886516
+SHUFFLE	COMPRESS_BYTE_COUNT	716878
+SHUFFLE	COPY_MAP_DATA	3165567000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4866320
+SHUFFLE	COMPRESS_BYTE_COUNT	713890
+SHUFFLE	COPY_MAP_DATA	70662000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4870706
+SHUFFLE	COMPRESS_BYTE_COUNT	714123
+SHUFFLE	COPY_MAP_DATA	418988000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4900388
+SHUFFLE	COMPRESS_BYTE_COUNT	718964
+SHUFFLE	COPY_MAP_DATA	2580252000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4841126
+SHUFFLE	COMPRESS_BYTE_COUNT	710387
+SHUFFLE	COPY_MAP_DATA	43293000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4868258
+SHUFFLE	COMPRESS_BYTE_COUNT	714265
+SHUFFLE	COPY_MAP_DATA	293273000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4857752
+SHUFFLE	COMPRESS_BYTE_COUNT	712803
+SHUFFLE	COPY_MAP_DATA	99032000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4865198
+SHUFFLE	COMPRESS_BYTE_COUNT	713801
+SHUFFLE	COPY_MAP_DATA	49341000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4874174
+SHUFFLE	COMPRESS_BYTE_COUNT	715086
+SHUFFLE	COPY_MAP_DATA	45180000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4892126
+SHUFFLE	COMPRESS_BYTE_COUNT	717408
+SHUFFLE	COPY_MAP_DATA	67837000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4890698
+SHUFFLE	COMPRESS_BYTE_COUNT	717181
+SHUFFLE	COPY_MAP_DATA	550918000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4890800
+SHUFFLE	COMPRESS_BYTE_COUNT	717454
+SHUFFLE	COPY_MAP_DATA	45064000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4908752
+SHUFFLE	COMPRESS_BYTE_COUNT	719790
+SHUFFLE	COPY_MAP_DATA	823496000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4872134
+SHUFFLE	COMPRESS_BYTE_COUNT	714761
+SHUFFLE	COPY_MAP_DATA	2703540000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4884578
+SHUFFLE	COMPRESS_BYTE_COUNT	716582
+SHUFFLE	COPY_MAP_DATA	50128000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4871420
+SHUFFLE	COMPRESS_BYTE_COUNT	714642
+SHUFFLE	COPY_MAP_DATA	48933000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4891718
+SHUFFLE	COMPRESS_BYTE_COUNT	717697
+SHUFFLE	COPY_MAP_DATA	1157852000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4910282
+SHUFFLE	COMPRESS_BYTE_COUNT	720390
+SHUFFLE	COPY_MAP_DATA	164673000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4872440
+SHUFFLE	COMPRESS_BYTE_COUNT	714272
+SHUFFLE	COPY_MAP_DATA	55697000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4862138
+SHUFFLE	COMPRESS_BYTE_COUNT	713239
+SHUFFLE	COPY_MAP_DATA	1749024000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4901000
+SHUFFLE	COMPRESS_BYTE_COUNT	718662
+SHUFFLE	COPY_MAP_DATA	96498000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4836230
+SHUFFLE	COMPRESS_BYTE_COUNT	709604
+SHUFFLE	COPY_MAP_DATA	223458000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4823072
+SHUFFLE	COMPRESS_BYTE_COUNT	707599
+SHUFFLE	COPY_MAP_DATA	45479000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4906406
+SHUFFLE	COMPRESS_BYTE_COUNT	719528
+SHUFFLE	COPY_MAP_DATA	283640000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4882844
+SHUFFLE	COMPRESS_BYTE_COUNT	715684
+SHUFFLE	COPY_MAP_DATA	1163208000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4877132
+SHUFFLE	COMPRESS_BYTE_COUNT	715462
+SHUFFLE	COPY_MAP_DATA	44368000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4864178
+SHUFFLE	COMPRESS_BYTE_COUNT	713265
+SHUFFLE	COPY_MAP_DATA	1446652000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4872542
+SHUFFLE	COMPRESS_BYTE_COUNT	714609
+SHUFFLE	COPY_MAP_DATA	1789412000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4878050
+SHUFFLE	COMPRESS_BYTE_COUNT	715854
+SHUFFLE	COPY_MAP_DATA	1312213000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4905896
+SHUFFLE	COMPRESS_BYTE_COUNT	719381
+SHUFFLE	COPY_MAP_DATA	133588000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4820726
+SHUFFLE	COMPRESS_BYTE_COUNT	706954
+SHUFFLE	COPY_MAP_DATA	94177000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4898858
+SHUFFLE	COMPRESS_BYTE_COUNT	718748
+SHUFFLE	COPY_MAP_DATA	192900000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4927214
+SHUFFLE	COMPRESS_BYTE_COUNT	722921
+SHUFFLE	COPY_MAP_DATA	2331088000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4841840
+SHUFFLE	COMPRESS_BYTE_COUNT	710105
+SHUFFLE	COPY_MAP_DATA	43971000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4825826
+SHUFFLE	COMPRESS_BYTE_COUNT	707733
+SHUFFLE	COPY_MAP_DATA	118784000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4899878
+SHUFFLE	COMPRESS_BYTE_COUNT	718554
+SHUFFLE	COPY_MAP_DATA	288028000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4909160
+SHUFFLE	COMPRESS_BYTE_COUNT	719711
+SHUFFLE	COPY_MAP_DATA	543420000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4821848
+SHUFFLE	COMPRESS_BYTE_COUNT	707116
+SHUFFLE	COPY_MAP_DATA	150805000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4894370
+SHUFFLE	COMPRESS_BYTE_COUNT	718133
+SHUFFLE	COPY_MAP_DATA	42555000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4910078
+SHUFFLE	COMPRESS_BYTE_COUNT	720018
+SHUFFLE	COPY_MAP_DATA	446001000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4880906
+SHUFFLE	COMPRESS_BYTE_COUNT	716286
+SHUFFLE	COPY_MAP_DATA	45629000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4917014
+SHUFFLE	COMPRESS_BYTE_COUNT	721432
+SHUFFLE	COPY_MAP_DATA	128332000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4839902
+SHUFFLE	COMPRESS_BYTE_COUNT	710070
+SHUFFLE	COPY_MAP_DATA	57567000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4909466
+SHUFFLE	COMPRESS_BYTE_COUNT	719870
+SHUFFLE	COPY_MAP_DATA	240748000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4864076
+SHUFFLE	COMPRESS_BYTE_COUNT	713698
+SHUFFLE	COPY_MAP_DATA	98392000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4848266
+SHUFFLE	COMPRESS_BYTE_COUNT	710925
+SHUFFLE	COPY_MAP_DATA	72227000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4858568
+SHUFFLE	COMPRESS_BYTE_COUNT	712833
+SHUFFLE	COPY_MAP_DATA	4138353000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4916810
+SHUFFLE	COMPRESS_BYTE_COUNT	714221
+SHUFFLE	COPY_MAP_DATA	47135000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4920074
+SHUFFLE	COMPRESS_BYTE_COUNT	721333
+SHUFFLE	COPY_MAP_DATA	99366000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4886210
+SHUFFLE	COMPRESS_BYTE_COUNT	717017
+SHUFFLE	COPY_MAP_DATA	43974000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4853774
+SHUFFLE	COMPRESS_BYTE_COUNT	711834
+SHUFFLE	COPY_MAP_DATA	978416000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4855508
+SHUFFLE	COMPRESS_BYTE_COUNT	712006
+SHUFFLE	COPY_MAP_DATA	42904000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4903856
+SHUFFLE	COMPRESS_BYTE_COUNT	719129
+SHUFFLE	COPY_MAP_DATA	846946000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4870604
+SHUFFLE	COMPRESS_BYTE_COUNT	714230
+SHUFFLE	COPY_MAP_DATA	45447000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4859282
+SHUFFLE	COMPRESS_BYTE_COUNT	713037
+SHUFFLE	COPY_MAP_DATA	54931000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1153928
+SHUFFLE	COMPRESS_BYTE_COUNT	167524
+SHUFFLE	COPY_MAP_DATA	370903000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4878254
+SHUFFLE	COMPRESS_BYTE_COUNT	715209
+SHUFFLE	COPY_MAP_DATA	872483000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4881212
+SHUFFLE	COMPRESS_BYTE_COUNT	716039
+SHUFFLE	COPY_MAP_DATA	425616000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4888556
+SHUFFLE	COMPRESS_BYTE_COUNT	716678
+SHUFFLE	COPY_MAP_DATA	52256000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1153112
+SHUFFLE	COMPRESS_BYTE_COUNT	167337
+SHUFFLE	COPY_MAP_DATA	1068946000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4839494
+SHUFFLE	COMPRESS_BYTE_COUNT	709906
+SHUFFLE	COPY_MAP_DATA	4524824000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4888862
+SHUFFLE	COMPRESS_BYTE_COUNT	716827
+SHUFFLE	COPY_MAP_DATA	84657000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1144442
+SHUFFLE	COMPRESS_BYTE_COUNT	166086
+SHUFFLE	COPY_MAP_DATA	1543804000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4879988
+SHUFFLE	COMPRESS_BYTE_COUNT	716211
+SHUFFLE	COPY_MAP_DATA	1096499000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4861526
+SHUFFLE	COMPRESS_BYTE_COUNT	713552
+SHUFFLE	COPY_MAP_DATA	10387550000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4850714
+SHUFFLE	COMPRESS_BYTE_COUNT	711962
+SHUFFLE	COPY_MAP_DATA	152626000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4853060
+SHUFFLE	COMPRESS_BYTE_COUNT	712136
+SHUFFLE	COPY_MAP_DATA	514414000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4929866
+SHUFFLE	COMPRESS_BYTE_COUNT	723117
+SHUFFLE	COPY_MAP_DATA	43049000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4880804
+SHUFFLE	COMPRESS_BYTE_COUNT	715480
+SHUFFLE	COPY_MAP_DATA	459117000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4908854
+SHUFFLE	COMPRESS_BYTE_COUNT	720389
+SHUFFLE	COPY_MAP_DATA	245662000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1149950
+SHUFFLE	COMPRESS_BYTE_COUNT	166935
+SHUFFLE	COPY_MAP_DATA	1193910000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4836332
+SHUFFLE	COMPRESS_BYTE_COUNT	709486
+SHUFFLE	COPY_MAP_DATA	46095000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4872032
+SHUFFLE	COMPRESS_BYTE_COUNT	714527
+SHUFFLE	COPY_MAP_DATA	45259000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4891310
+SHUFFLE	COMPRESS_BYTE_COUNT	717345
+SHUFFLE	COPY_MAP_DATA	45486000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1125674
+SHUFFLE	COMPRESS_BYTE_COUNT	163364
+SHUFFLE	COPY_MAP_DATA	11497000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4879988
+SHUFFLE	COMPRESS_BYTE_COUNT	715475
+SHUFFLE	COPY_MAP_DATA	329937000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4901204
+SHUFFLE	COMPRESS_BYTE_COUNT	719012
+SHUFFLE	COPY_MAP_DATA	108830000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4904162
+SHUFFLE	COMPRESS_BYTE_COUNT	719428
+SHUFFLE	COPY_MAP_DATA	42450000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4908752
+SHUFFLE	COMPRESS_BYTE_COUNT	720093
+SHUFFLE	COPY_MAP_DATA	43652000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1148318
+SHUFFLE	COMPRESS_BYTE_COUNT	166669
+SHUFFLE	COPY_MAP_DATA	12383000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4859180
+SHUFFLE	COMPRESS_BYTE_COUNT	712537
+SHUFFLE	COPY_MAP_DATA	979330000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4845410
+SHUFFLE	COMPRESS_BYTE_COUNT	711222
+SHUFFLE	COPY_MAP_DATA	489417000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4910996
+SHUFFLE	COMPRESS_BYTE_COUNT	719900
+SHUFFLE	COPY_MAP_DATA	2241080000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4915382
+SHUFFLE	COMPRESS_BYTE_COUNT	720842
+SHUFFLE	COPY_MAP_DATA	503657000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4843166
+SHUFFLE	COMPRESS_BYTE_COUNT	710325
+SHUFFLE	COPY_MAP_DATA	5337717000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1137812
+SHUFFLE	COMPRESS_BYTE_COUNT	165143
+SHUFFLE	COPY_MAP_DATA	12830000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1143830
+SHUFFLE	COMPRESS_BYTE_COUNT	166023
+SHUFFLE	COPY_MAP_DATA	435043000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4865810
+SHUFFLE	COMPRESS_BYTE_COUNT	713809
+SHUFFLE	COPY_MAP_DATA	43603000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4895798
+SHUFFLE	COMPRESS_BYTE_COUNT	717553
+SHUFFLE	COPY_MAP_DATA	4182981000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4885394
+SHUFFLE	COMPRESS_BYTE_COUNT	716642
+SHUFFLE	COPY_MAP_DATA	157139000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4881314
+SHUFFLE	COMPRESS_BYTE_COUNT	715986
+SHUFFLE	COPY_MAP_DATA	48980000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1160864
+SHUFFLE	COMPRESS_BYTE_COUNT	168413
+SHUFFLE	COPY_MAP_DATA	3653084921
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4861424
+SHUFFLE	COMPRESS_BYTE_COUNT	713214
+SHUFFLE	COPY_MAP_DATA	46110000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4876214
+SHUFFLE	COMPRESS_BYTE_COUNT	715376
+SHUFFLE	COPY_MAP_DATA	7293453000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4892432
+SHUFFLE	COMPRESS_BYTE_COUNT	717333
+SHUFFLE	COPY_MAP_DATA	43781000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1163006
+SHUFFLE	COMPRESS_BYTE_COUNT	168846
+SHUFFLE	COPY_MAP_DATA	14141000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4893248
+SHUFFLE	COMPRESS_BYTE_COUNT	718113
+SHUFFLE	COPY_MAP_DATA	45297000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4837352
+SHUFFLE	COMPRESS_BYTE_COUNT	709657
+SHUFFLE	COPY_MAP_DATA	44950000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4883558
+SHUFFLE	COMPRESS_BYTE_COUNT	716191
+SHUFFLE	COPY_MAP_DATA	791130000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1143218
+SHUFFLE	COMPRESS_BYTE_COUNT	165893
+SHUFFLE	COPY_MAP_DATA	15196000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4840004
+SHUFFLE	COMPRESS_BYTE_COUNT	710055
+SHUFFLE	COPY_MAP_DATA	42049000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1148318
+SHUFFLE	COMPRESS_BYTE_COUNT	166666
+SHUFFLE	COPY_MAP_DATA	65011000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4855610
+SHUFFLE	COMPRESS_BYTE_COUNT	711833
+SHUFFLE	COPY_MAP_DATA	529072000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4910690
+SHUFFLE	COMPRESS_BYTE_COUNT	720479
+SHUFFLE	COPY_MAP_DATA	59132000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1143218
+SHUFFLE	COMPRESS_BYTE_COUNT	165875
+SHUFFLE	COPY_MAP_DATA	135523000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4858262
+SHUFFLE	COMPRESS_BYTE_COUNT	712167
+SHUFFLE	COPY_MAP_DATA	44343000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1151480
+SHUFFLE	COMPRESS_BYTE_COUNT	167119
+SHUFFLE	COPY_MAP_DATA	13017000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4906916
+SHUFFLE	COMPRESS_BYTE_COUNT	720136
+SHUFFLE	COPY_MAP_DATA	44888000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1139240
+SHUFFLE	COMPRESS_BYTE_COUNT	165431
+SHUFFLE	COPY_MAP_DATA	67366000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1146584
+SHUFFLE	COMPRESS_BYTE_COUNT	166452
+SHUFFLE	COPY_MAP_DATA	221428000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1127918
+SHUFFLE	COMPRESS_BYTE_COUNT	163747
+SHUFFLE	COPY_MAP_DATA	22879000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1128734
+SHUFFLE	COMPRESS_BYTE_COUNT	163940
+SHUFFLE	COPY_MAP_DATA	13839000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1147706
+SHUFFLE	COMPRESS_BYTE_COUNT	166556
+SHUFFLE	COPY_MAP_DATA	51978000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4878968
+SHUFFLE	COMPRESS_BYTE_COUNT	715526
+SHUFFLE	COPY_MAP_DATA	42105000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1148624
+SHUFFLE	COMPRESS_BYTE_COUNT	166772
+SHUFFLE	COPY_MAP_DATA	405303000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4891310
+SHUFFLE	COMPRESS_BYTE_COUNT	717590
+SHUFFLE	COPY_MAP_DATA	43281000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1157396
+SHUFFLE	COMPRESS_BYTE_COUNT	167957
+SHUFFLE	COPY_MAP_DATA	13172000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4870298
+SHUFFLE	COMPRESS_BYTE_COUNT	714649
+SHUFFLE	COPY_MAP_DATA	1127696000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4877438
+SHUFFLE	COMPRESS_BYTE_COUNT	715773
+SHUFFLE	COPY_MAP_DATA	1502448000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1147706
+SHUFFLE	COMPRESS_BYTE_COUNT	166535
+SHUFFLE	COPY_MAP_DATA	12358000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1144136
+SHUFFLE	COMPRESS_BYTE_COUNT	166042
+SHUFFLE	COPY_MAP_DATA	574021000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4861628
+SHUFFLE	COMPRESS_BYTE_COUNT	713561
+SHUFFLE	COPY_MAP_DATA	224914000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1145054
+SHUFFLE	COMPRESS_BYTE_COUNT	166269
+SHUFFLE	COPY_MAP_DATA	8647807000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4884578
+SHUFFLE	COMPRESS_BYTE_COUNT	716137
+SHUFFLE	COPY_MAP_DATA	83034000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1144544
+SHUFFLE	COMPRESS_BYTE_COUNT	166171
+SHUFFLE	COPY_MAP_DATA	22084000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4876928
+SHUFFLE	COMPRESS_BYTE_COUNT	715399
+SHUFFLE	COPY_MAP_DATA	75870000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4863158
+SHUFFLE	COMPRESS_BYTE_COUNT	712970
+SHUFFLE	COPY_MAP_DATA	4826794000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1135670
+SHUFFLE	COMPRESS_BYTE_COUNT	164874
+SHUFFLE	COPY_MAP_DATA	187965000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1168106
+SHUFFLE	COMPRESS_BYTE_COUNT	169520
+SHUFFLE	COPY_MAP_DATA	191597000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1160456
+SHUFFLE	COMPRESS_BYTE_COUNT	168421
+SHUFFLE	COPY_MAP_DATA	75974000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1142096
+SHUFFLE	COMPRESS_BYTE_COUNT	165815
+SHUFFLE	COPY_MAP_DATA	12460000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1130876
+SHUFFLE	COMPRESS_BYTE_COUNT	164147
+SHUFFLE	COPY_MAP_DATA	55836000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4908038
+SHUFFLE	COMPRESS_BYTE_COUNT	719679
+SHUFFLE	COPY_MAP_DATA	44668000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4887026
+SHUFFLE	COMPRESS_BYTE_COUNT	716819
+SHUFFLE	COPY_MAP_DATA	211852000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1150154
+SHUFFLE	COMPRESS_BYTE_COUNT	166834
+SHUFFLE	COPY_MAP_DATA	95749000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1153724
+SHUFFLE	COMPRESS_BYTE_COUNT	167491
+SHUFFLE	COPY_MAP_DATA	11229000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1169126
+SHUFFLE	COMPRESS_BYTE_COUNT	169581
+SHUFFLE	COPY_MAP_DATA	696857000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1144544
+SHUFFLE	COMPRESS_BYTE_COUNT	166174
+SHUFFLE	COPY_MAP_DATA	39451000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1158518
+SHUFFLE	COMPRESS_BYTE_COUNT	168154
+SHUFFLE	COPY_MAP_DATA	18997000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1149032
+SHUFFLE	COMPRESS_BYTE_COUNT	166741
+SHUFFLE	COPY_MAP_DATA	16837000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1154030
+SHUFFLE	COMPRESS_BYTE_COUNT	167495
+SHUFFLE	COPY_MAP_DATA	316617000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1136180
+SHUFFLE	COMPRESS_BYTE_COUNT	164933
+SHUFFLE	COPY_MAP_DATA	4705467000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1160762
+SHUFFLE	COMPRESS_BYTE_COUNT	168484
+SHUFFLE	COPY_MAP_DATA	14505000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4895798
+SHUFFLE	COMPRESS_BYTE_COUNT	718204
+SHUFFLE	COPY_MAP_DATA	633269000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1148114
+SHUFFLE	COMPRESS_BYTE_COUNT	166690
+SHUFFLE	COPY_MAP_DATA	12231000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1142810
+SHUFFLE	COMPRESS_BYTE_COUNT	165910
+SHUFFLE	COPY_MAP_DATA	13006000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1135262
+SHUFFLE	COMPRESS_BYTE_COUNT	164900
+SHUFFLE	COPY_MAP_DATA	12547000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1139138
+SHUFFLE	COMPRESS_BYTE_COUNT	165290
+SHUFFLE	COPY_MAP_DATA	12463000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1148216
+SHUFFLE	COMPRESS_BYTE_COUNT	166681
+SHUFFLE	COPY_MAP_DATA	1456274000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1138934
+SHUFFLE	COMPRESS_BYTE_COUNT	165318
+SHUFFLE	COPY_MAP_DATA	1378613000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1134344
+SHUFFLE	COMPRESS_BYTE_COUNT	164754
+SHUFFLE	COPY_MAP_DATA	357375000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4870808
+SHUFFLE	COMPRESS_BYTE_COUNT	714403
+SHUFFLE	COPY_MAP_DATA	49807000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1138628
+SHUFFLE	COMPRESS_BYTE_COUNT	165221
+SHUFFLE	COPY_MAP_DATA	67058000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1153520
+SHUFFLE	COMPRESS_BYTE_COUNT	167491
+SHUFFLE	COPY_MAP_DATA	3217555000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1149236
+SHUFFLE	COMPRESS_BYTE_COUNT	166774
+SHUFFLE	COPY_MAP_DATA	42689000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1132508
+SHUFFLE	COMPRESS_BYTE_COUNT	164434
+SHUFFLE	COPY_MAP_DATA	55810000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4891820
+SHUFFLE	COMPRESS_BYTE_COUNT	717238
+SHUFFLE	COPY_MAP_DATA	381776000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1148522
+SHUFFLE	COMPRESS_BYTE_COUNT	166673
+SHUFFLE	COPY_MAP_DATA	13233000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4879376
+SHUFFLE	COMPRESS_BYTE_COUNT	715997
+SHUFFLE	COPY_MAP_DATA	146168000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4880294
+SHUFFLE	COMPRESS_BYTE_COUNT	715661
+SHUFFLE	COPY_MAP_DATA	69520000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4846634
+SHUFFLE	COMPRESS_BYTE_COUNT	710682
+SHUFFLE	COPY_MAP_DATA	47159000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4907426
+SHUFFLE	COMPRESS_BYTE_COUNT	719789
+SHUFFLE	COPY_MAP_DATA	46680000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1167902
+SHUFFLE	COMPRESS_BYTE_COUNT	169455
+SHUFFLE	COPY_MAP_DATA	31938000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1162190
+SHUFFLE	COMPRESS_BYTE_COUNT	168578
+SHUFFLE	COPY_MAP_DATA	12426000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1155050
+SHUFFLE	COMPRESS_BYTE_COUNT	167458
+SHUFFLE	COPY_MAP_DATA	377353000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1146278
+SHUFFLE	COMPRESS_BYTE_COUNT	166297
+SHUFFLE	COPY_MAP_DATA	10878000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1149032
+SHUFFLE	COMPRESS_BYTE_COUNT	166574
+SHUFFLE	COPY_MAP_DATA	52620000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1151582
+SHUFFLE	COMPRESS_BYTE_COUNT	167103
+SHUFFLE	COPY_MAP_DATA	14426000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1127000
+SHUFFLE	COMPRESS_BYTE_COUNT	163573
+SHUFFLE	COPY_MAP_DATA	890239000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1151174
+SHUFFLE	COMPRESS_BYTE_COUNT	167104
+SHUFFLE	COPY_MAP_DATA	81514000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1125368
+SHUFFLE	COMPRESS_BYTE_COUNT	163450
+SHUFFLE	COPY_MAP_DATA	13001000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1128530
+SHUFFLE	COMPRESS_BYTE_COUNT	163902
+SHUFFLE	COPY_MAP_DATA	12771000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1142300
+SHUFFLE	COMPRESS_BYTE_COUNT	165873
+SHUFFLE	COPY_MAP_DATA	11567000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1146380
+SHUFFLE	COMPRESS_BYTE_COUNT	166424
+SHUFFLE	COPY_MAP_DATA	11933000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1153826
+SHUFFLE	COMPRESS_BYTE_COUNT	167444
+SHUFFLE	COPY_MAP_DATA	97176000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1154846
+SHUFFLE	COMPRESS_BYTE_COUNT	167709
+SHUFFLE	COPY_MAP_DATA	11577000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1137914
+SHUFFLE	COMPRESS_BYTE_COUNT	165250
+SHUFFLE	COPY_MAP_DATA	11874000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4878764
+SHUFFLE	COMPRESS_BYTE_COUNT	715335
+SHUFFLE	COPY_MAP_DATA	107796000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1135466
+SHUFFLE	COMPRESS_BYTE_COUNT	164681
+SHUFFLE	COPY_MAP_DATA	12221000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1141280
+SHUFFLE	COMPRESS_BYTE_COUNT	165577
+SHUFFLE	COPY_MAP_DATA	11099000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1123430
+SHUFFLE	COMPRESS_BYTE_COUNT	163168
+SHUFFLE	COPY_MAP_DATA	12133000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1138730
+SHUFFLE	COMPRESS_BYTE_COUNT	165313
+SHUFFLE	COPY_MAP_DATA	14674000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1139546
+SHUFFLE	COMPRESS_BYTE_COUNT	165435
+SHUFFLE	COPY_MAP_DATA	13072000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1159028
+SHUFFLE	COMPRESS_BYTE_COUNT	168272
+SHUFFLE	COPY_MAP_DATA	70355000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1144850
+SHUFFLE	COMPRESS_BYTE_COUNT	166057
+SHUFFLE	COPY_MAP_DATA	11714000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1142810
+SHUFFLE	COMPRESS_BYTE_COUNT	165898
+SHUFFLE	COPY_MAP_DATA	12077000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1147400
+SHUFFLE	COMPRESS_BYTE_COUNT	166499
+SHUFFLE	COPY_MAP_DATA	12386000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1157294
+SHUFFLE	COMPRESS_BYTE_COUNT	168048
+SHUFFLE	COPY_MAP_DATA	56456000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1141484
+SHUFFLE	COMPRESS_BYTE_COUNT	165790
+SHUFFLE	COPY_MAP_DATA	12336000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1131488
+SHUFFLE	COMPRESS_BYTE_COUNT	164240
+SHUFFLE	COPY_MAP_DATA	11978000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1160864
+SHUFFLE	COMPRESS_BYTE_COUNT	168341
+SHUFFLE	COPY_MAP_DATA	15110000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1149032
+SHUFFLE	COMPRESS_BYTE_COUNT	166781
+SHUFFLE	COPY_MAP_DATA	14353000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1149746
+SHUFFLE	COMPRESS_BYTE_COUNT	166847
+SHUFFLE	COPY_MAP_DATA	11806000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1147094
+SHUFFLE	COMPRESS_BYTE_COUNT	166456
+SHUFFLE	COPY_MAP_DATA	13424000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1153724
+SHUFFLE	COMPRESS_BYTE_COUNT	167287
+SHUFFLE	COPY_MAP_DATA	30519000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1160252
+SHUFFLE	COMPRESS_BYTE_COUNT	168384
+SHUFFLE	COPY_MAP_DATA	13043000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1147196
+SHUFFLE	COMPRESS_BYTE_COUNT	166687
+SHUFFLE	COPY_MAP_DATA	12545000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1158314
+SHUFFLE	COMPRESS_BYTE_COUNT	168160
+SHUFFLE	COPY_MAP_DATA	12989000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1149134
+SHUFFLE	COMPRESS_BYTE_COUNT	166844
+SHUFFLE	COPY_MAP_DATA	13061000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1140668
+SHUFFLE	COMPRESS_BYTE_COUNT	165589
+SHUFFLE	COPY_MAP_DATA	12647000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1157702
+SHUFFLE	COMPRESS_BYTE_COUNT	167925
+SHUFFLE	COPY_MAP_DATA	13648000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1152908
+SHUFFLE	COMPRESS_BYTE_COUNT	167521
+SHUFFLE	COPY_MAP_DATA	20770000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1154744
+SHUFFLE	COMPRESS_BYTE_COUNT	167531
+SHUFFLE	COPY_MAP_DATA	12325000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1158722
+SHUFFLE	COMPRESS_BYTE_COUNT	168086
+SHUFFLE	COPY_MAP_DATA	13361000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1166372
+SHUFFLE	COMPRESS_BYTE_COUNT	169224
+SHUFFLE	COPY_MAP_DATA	12394000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1128836
+SHUFFLE	COMPRESS_BYTE_COUNT	163922
+SHUFFLE	COPY_MAP_DATA	11546000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1145666
+SHUFFLE	COMPRESS_BYTE_COUNT	166343
+SHUFFLE	COPY_MAP_DATA	12208000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1146788
+SHUFFLE	COMPRESS_BYTE_COUNT	166429
+SHUFFLE	COPY_MAP_DATA	11461000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1146584
+SHUFFLE	COMPRESS_BYTE_COUNT	166484
+SHUFFLE	COPY_MAP_DATA	12680000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1144952
+SHUFFLE	COMPRESS_BYTE_COUNT	166139
+SHUFFLE	COPY_MAP_DATA	11950000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1130366
+SHUFFLE	COMPRESS_BYTE_COUNT	164037
+SHUFFLE	COPY_MAP_DATA	2076966000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1135466
+SHUFFLE	COMPRESS_BYTE_COUNT	164781
+SHUFFLE	COPY_MAP_DATA	102193000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	265928405921
+MERGE	READ_WRITE	258260724921
+MERGE	READ_WRITE_COUNT	7
+MERGE	COMBINE	0
+MERGE	WRITE	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	13880431000
+SORT	READ_WRITE	13700479000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	154935184
+REDUCE	SETUP	376000
+REDUCE	SETUP_MEM	154935184
+REDUCE	CLEANUP	49000
+REDUCE	CLEANUP_MEM	124131776
+REDUCE	TOTAL_RUN	168700608000
+REDUCE	READ	22575998000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	88916024000
+REDUCE	WRITE	35947013000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	106909820
+REDUCE	VALUE_BYTE_COUNT	940806416
+REDUCE	REDUCE_MEM	124133824
+REDUCE	WRITE	5498000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	715766322921
@@ -0,0 +1,1229 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5106938
+SHUFFLE	COMPRESS_BYTE_COUNT	748656
+SHUFFLE	COPY_MAP_DATA	1406699000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5078990
+SHUFFLE	COMPRESS_BYTE_COUNT	745160
+SHUFFLE	COPY_MAP_DATA	1473833000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5090618
+SHUFFLE	COMPRESS_BYTE_COUNT	747064
+SHUFFLE	COPY_MAP_DATA	98057000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5081744
+SHUFFLE	COMPRESS_BYTE_COUNT	744625
+SHUFFLE	COPY_MAP_DATA	70734000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5136926
+SHUFFLE	COMPRESS_BYTE_COUNT	753447
+SHUFFLE	COPY_MAP_DATA	89739000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5033294
+SHUFFLE	COMPRESS_BYTE_COUNT	738166
+SHUFFLE	COPY_MAP_DATA	57799000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5095412
+SHUFFLE	COMPRESS_BYTE_COUNT	747030
+SHUFFLE	COPY_MAP_DATA	96910000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5100308
+SHUFFLE	COMPRESS_BYTE_COUNT	747881
+SHUFFLE	COPY_MAP_DATA	75905000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5071952
+SHUFFLE	COMPRESS_BYTE_COUNT	744428
+SHUFFLE	COPY_MAP_DATA	786216000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5072360
+SHUFFLE	COMPRESS_BYTE_COUNT	743764
+SHUFFLE	COPY_MAP_DATA	151068000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5054612
+SHUFFLE	COMPRESS_BYTE_COUNT	741637
+SHUFFLE	COPY_MAP_DATA	48075000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5097554
+SHUFFLE	COMPRESS_BYTE_COUNT	748135
+SHUFFLE	COPY_MAP_DATA	57625000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5118464
+SHUFFLE	COMPRESS_BYTE_COUNT	750967
+SHUFFLE	COPY_MAP_DATA	54376000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5061548
+SHUFFLE	COMPRESS_BYTE_COUNT	742205
+SHUFFLE	COPY_MAP_DATA	127071000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5067362
+SHUFFLE	COMPRESS_BYTE_COUNT	743198
+SHUFFLE	COPY_MAP_DATA	76932000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5096126
+SHUFFLE	COMPRESS_BYTE_COUNT	747648
+SHUFFLE	COPY_MAP_DATA	256405000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5127440
+SHUFFLE	COMPRESS_BYTE_COUNT	751905
+SHUFFLE	COPY_MAP_DATA	48186000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5033702
+SHUFFLE	COMPRESS_BYTE_COUNT	738452
+SHUFFLE	COPY_MAP_DATA	53111000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5096942
+SHUFFLE	COMPRESS_BYTE_COUNT	747177
+SHUFFLE	COPY_MAP_DATA	217626000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5073278
+SHUFFLE	COMPRESS_BYTE_COUNT	744338
+SHUFFLE	COPY_MAP_DATA	47356000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5092760
+SHUFFLE	COMPRESS_BYTE_COUNT	747361
+SHUFFLE	COPY_MAP_DATA	47414000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5089802
+SHUFFLE	COMPRESS_BYTE_COUNT	746812
+SHUFFLE	COPY_MAP_DATA	89212000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5045432
+SHUFFLE	COMPRESS_BYTE_COUNT	740240
+SHUFFLE	COPY_MAP_DATA	74496000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5103572
+SHUFFLE	COMPRESS_BYTE_COUNT	748258
+SHUFFLE	COPY_MAP_DATA	49412000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5054000
+SHUFFLE	COMPRESS_BYTE_COUNT	741311
+SHUFFLE	COPY_MAP_DATA	152549000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5104082
+SHUFFLE	COMPRESS_BYTE_COUNT	748946
+SHUFFLE	COPY_MAP_DATA	109620000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5050226
+SHUFFLE	COMPRESS_BYTE_COUNT	741065
+SHUFFLE	COPY_MAP_DATA	69618000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5101736
+SHUFFLE	COMPRESS_BYTE_COUNT	748302
+SHUFFLE	COPY_MAP_DATA	5386337000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5108570
+SHUFFLE	COMPRESS_BYTE_COUNT	749132
+SHUFFLE	COPY_MAP_DATA	1250438000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5098268
+SHUFFLE	COMPRESS_BYTE_COUNT	747853
+SHUFFLE	COPY_MAP_DATA	205509000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5092046
+SHUFFLE	COMPRESS_BYTE_COUNT	747012
+SHUFFLE	COPY_MAP_DATA	3720872000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5066954
+SHUFFLE	COMPRESS_BYTE_COUNT	743158
+SHUFFLE	COPY_MAP_DATA	733796000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5062670
+SHUFFLE	COMPRESS_BYTE_COUNT	742926
+SHUFFLE	COPY_MAP_DATA	370777000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5059508
+SHUFFLE	COMPRESS_BYTE_COUNT	741983
+SHUFFLE	COPY_MAP_DATA	107278000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5110814
+SHUFFLE	COMPRESS_BYTE_COUNT	749111
+SHUFFLE	COPY_MAP_DATA	64006000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5057060
+SHUFFLE	COMPRESS_BYTE_COUNT	742151
+SHUFFLE	COPY_MAP_DATA	51510000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5082662
+SHUFFLE	COMPRESS_BYTE_COUNT	745871
+SHUFFLE	COPY_MAP_DATA	48999000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5067158
+SHUFFLE	COMPRESS_BYTE_COUNT	743075
+SHUFFLE	COPY_MAP_DATA	101238000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5074400
+SHUFFLE	COMPRESS_BYTE_COUNT	744191
+SHUFFLE	COPY_MAP_DATA	49656000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5135192
+SHUFFLE	COMPRESS_BYTE_COUNT	753537
+SHUFFLE	COPY_MAP_DATA	433955000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5077256
+SHUFFLE	COMPRESS_BYTE_COUNT	744695
+SHUFFLE	COPY_MAP_DATA	47539000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5091536
+SHUFFLE	COMPRESS_BYTE_COUNT	746895
+SHUFFLE	COPY_MAP_DATA	47662000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5105204
+SHUFFLE	COMPRESS_BYTE_COUNT	749063
+SHUFFLE	COPY_MAP_DATA	47638000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5121320
+SHUFFLE	COMPRESS_BYTE_COUNT	751191
+SHUFFLE	COPY_MAP_DATA	231458000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5122850
+SHUFFLE	COMPRESS_BYTE_COUNT	751098
+SHUFFLE	COPY_MAP_DATA	2269324000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5101940
+SHUFFLE	COMPRESS_BYTE_COUNT	748408
+SHUFFLE	COPY_MAP_DATA	92163000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5045942
+SHUFFLE	COMPRESS_BYTE_COUNT	740309
+SHUFFLE	COPY_MAP_DATA	47361000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5110610
+SHUFFLE	COMPRESS_BYTE_COUNT	749656
+SHUFFLE	COPY_MAP_DATA	1191864000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5131214
+SHUFFLE	COMPRESS_BYTE_COUNT	752430
+SHUFFLE	COPY_MAP_DATA	344397000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5046554
+SHUFFLE	COMPRESS_BYTE_COUNT	740706
+SHUFFLE	COPY_MAP_DATA	154261000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5098880
+SHUFFLE	COMPRESS_BYTE_COUNT	747513
+SHUFFLE	COPY_MAP_DATA	179458000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5069606
+SHUFFLE	COMPRESS_BYTE_COUNT	743276
+SHUFFLE	COPY_MAP_DATA	267601000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5070524
+SHUFFLE	COMPRESS_BYTE_COUNT	743648
+SHUFFLE	COPY_MAP_DATA	497972000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5086232
+SHUFFLE	COMPRESS_BYTE_COUNT	745964
+SHUFFLE	COPY_MAP_DATA	2598178000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5052368
+SHUFFLE	COMPRESS_BYTE_COUNT	736791
+SHUFFLE	COPY_MAP_DATA	607999000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5093270
+SHUFFLE	COMPRESS_BYTE_COUNT	746561
+SHUFFLE	COPY_MAP_DATA	268661000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5066342
+SHUFFLE	COMPRESS_BYTE_COUNT	743115
+SHUFFLE	COPY_MAP_DATA	4182995000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5090414
+SHUFFLE	COMPRESS_BYTE_COUNT	746568
+SHUFFLE	COPY_MAP_DATA	278384000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5095514
+SHUFFLE	COMPRESS_BYTE_COUNT	747217
+SHUFFLE	COPY_MAP_DATA	83678000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5067056
+SHUFFLE	COMPRESS_BYTE_COUNT	743468
+SHUFFLE	COPY_MAP_DATA	44673000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5094698
+SHUFFLE	COMPRESS_BYTE_COUNT	747232
+SHUFFLE	COPY_MAP_DATA	123484000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5097554
+SHUFFLE	COMPRESS_BYTE_COUNT	747397
+SHUFFLE	COPY_MAP_DATA	46318000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5096534
+SHUFFLE	COMPRESS_BYTE_COUNT	747648
+SHUFFLE	COPY_MAP_DATA	46832000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5069300
+SHUFFLE	COMPRESS_BYTE_COUNT	743482
+SHUFFLE	COPY_MAP_DATA	45441000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5100920
+SHUFFLE	COMPRESS_BYTE_COUNT	748320
+SHUFFLE	COPY_MAP_DATA	780455000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5094698
+SHUFFLE	COMPRESS_BYTE_COUNT	747269
+SHUFFLE	COPY_MAP_DATA	46442000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5093168
+SHUFFLE	COMPRESS_BYTE_COUNT	747114
+SHUFFLE	COPY_MAP_DATA	180467000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5096024
+SHUFFLE	COMPRESS_BYTE_COUNT	747696
+SHUFFLE	COPY_MAP_DATA	47392000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5050532
+SHUFFLE	COMPRESS_BYTE_COUNT	740917
+SHUFFLE	COPY_MAP_DATA	2346334000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5096024
+SHUFFLE	COMPRESS_BYTE_COUNT	746995
+SHUFFLE	COPY_MAP_DATA	120734000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5108876
+SHUFFLE	COMPRESS_BYTE_COUNT	749498
+SHUFFLE	COPY_MAP_DATA	4226323000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5109080
+SHUFFLE	COMPRESS_BYTE_COUNT	749124
+SHUFFLE	COPY_MAP_DATA	121086000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5067668
+SHUFFLE	COMPRESS_BYTE_COUNT	743486
+SHUFFLE	COPY_MAP_DATA	3318849000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5040128
+SHUFFLE	COMPRESS_BYTE_COUNT	739403
+SHUFFLE	COPY_MAP_DATA	3167314000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5072666
+SHUFFLE	COMPRESS_BYTE_COUNT	744389
+SHUFFLE	COPY_MAP_DATA	90479000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5081642
+SHUFFLE	COMPRESS_BYTE_COUNT	744681
+SHUFFLE	COPY_MAP_DATA	52365000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5122034
+SHUFFLE	COMPRESS_BYTE_COUNT	751390
+SHUFFLE	COPY_MAP_DATA	102807000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5070320
+SHUFFLE	COMPRESS_BYTE_COUNT	743722
+SHUFFLE	COPY_MAP_DATA	250853000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5085824
+SHUFFLE	COMPRESS_BYTE_COUNT	745534
+SHUFFLE	COPY_MAP_DATA	3030576000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5122034
+SHUFFLE	COMPRESS_BYTE_COUNT	751203
+SHUFFLE	COPY_MAP_DATA	74791000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5109488
+SHUFFLE	COMPRESS_BYTE_COUNT	749566
+SHUFFLE	COPY_MAP_DATA	400459000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5071850
+SHUFFLE	COMPRESS_BYTE_COUNT	744180
+SHUFFLE	COPY_MAP_DATA	2572340000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5053388
+SHUFFLE	COMPRESS_BYTE_COUNT	741339
+SHUFFLE	COPY_MAP_DATA	7105600000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5089088
+SHUFFLE	COMPRESS_BYTE_COUNT	746369
+SHUFFLE	COPY_MAP_DATA	66681000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5065220
+SHUFFLE	COMPRESS_BYTE_COUNT	742576
+SHUFFLE	COPY_MAP_DATA	484038000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5089190
+SHUFFLE	COMPRESS_BYTE_COUNT	746667
+SHUFFLE	COPY_MAP_DATA	7867481000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5090108
+SHUFFLE	COMPRESS_BYTE_COUNT	746048
+SHUFFLE	COPY_MAP_DATA	1999040000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5111834
+SHUFFLE	COMPRESS_BYTE_COUNT	749468
+SHUFFLE	COPY_MAP_DATA	1230849000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5044616
+SHUFFLE	COMPRESS_BYTE_COUNT	740224
+SHUFFLE	COPY_MAP_DATA	46596000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5088170
+SHUFFLE	COMPRESS_BYTE_COUNT	746019
+SHUFFLE	COPY_MAP_DATA	45975000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5117036
+SHUFFLE	COMPRESS_BYTE_COUNT	750317
+SHUFFLE	COPY_MAP_DATA	3249406000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5057876
+SHUFFLE	COMPRESS_BYTE_COUNT	742151
+SHUFFLE	COPY_MAP_DATA	47452000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5070422
+SHUFFLE	COMPRESS_BYTE_COUNT	743653
+SHUFFLE	COPY_MAP_DATA	54793000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5048492
+SHUFFLE	COMPRESS_BYTE_COUNT	740624
+SHUFFLE	COPY_MAP_DATA	48728000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5072972
+SHUFFLE	COMPRESS_BYTE_COUNT	744145
+SHUFFLE	COPY_MAP_DATA	2030473000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5086130
+SHUFFLE	COMPRESS_BYTE_COUNT	746048
+SHUFFLE	COPY_MAP_DATA	337991000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5077460
+SHUFFLE	COMPRESS_BYTE_COUNT	744552
+SHUFFLE	COPY_MAP_DATA	46723000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5071442
+SHUFFLE	COMPRESS_BYTE_COUNT	743758
+SHUFFLE	COPY_MAP_DATA	6355815000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5055836
+SHUFFLE	COMPRESS_BYTE_COUNT	741575
+SHUFFLE	COPY_MAP_DATA	64080000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5071850
+SHUFFLE	COMPRESS_BYTE_COUNT	744214
+SHUFFLE	COPY_MAP_DATA	666127000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5070116
+SHUFFLE	COMPRESS_BYTE_COUNT	743751
+SHUFFLE	COPY_MAP_DATA	68533000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5079296
+SHUFFLE	COMPRESS_BYTE_COUNT	745256
+SHUFFLE	COPY_MAP_DATA	118501000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5099900
+SHUFFLE	COMPRESS_BYTE_COUNT	747759
+SHUFFLE	COPY_MAP_DATA	45330000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5083988
+SHUFFLE	COMPRESS_BYTE_COUNT	745832
+SHUFFLE	COPY_MAP_DATA	158242000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5093882
+SHUFFLE	COMPRESS_BYTE_COUNT	747826
+SHUFFLE	COPY_MAP_DATA	354815000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5109590
+SHUFFLE	COMPRESS_BYTE_COUNT	749301
+SHUFFLE	COPY_MAP_DATA	43863000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5119586
+SHUFFLE	COMPRESS_BYTE_COUNT	750284
+SHUFFLE	COPY_MAP_DATA	141194000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5068994
+SHUFFLE	COMPRESS_BYTE_COUNT	743429
+SHUFFLE	COPY_MAP_DATA	1069980000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5072258
+SHUFFLE	COMPRESS_BYTE_COUNT	744172
+SHUFFLE	COPY_MAP_DATA	45773000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5111936
+SHUFFLE	COMPRESS_BYTE_COUNT	749674
+SHUFFLE	COPY_MAP_DATA	49045000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5113160
+SHUFFLE	COMPRESS_BYTE_COUNT	749674
+SHUFFLE	COPY_MAP_DATA	1067766000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5094188
+SHUFFLE	COMPRESS_BYTE_COUNT	747209
+SHUFFLE	COPY_MAP_DATA	174193000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5121116
+SHUFFLE	COMPRESS_BYTE_COUNT	750897
+SHUFFLE	COPY_MAP_DATA	128854000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5094698
+SHUFFLE	COMPRESS_BYTE_COUNT	747348
+SHUFFLE	COPY_MAP_DATA	76365000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5104184
+SHUFFLE	COMPRESS_BYTE_COUNT	748381
+SHUFFLE	COPY_MAP_DATA	46308000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5106326
+SHUFFLE	COMPRESS_BYTE_COUNT	749229
+SHUFFLE	COPY_MAP_DATA	50308000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5072564
+SHUFFLE	COMPRESS_BYTE_COUNT	743742
+SHUFFLE	COPY_MAP_DATA	90961000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5090822
+SHUFFLE	COMPRESS_BYTE_COUNT	746692
+SHUFFLE	COPY_MAP_DATA	52180000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5070626
+SHUFFLE	COMPRESS_BYTE_COUNT	743904
+SHUFFLE	COPY_MAP_DATA	49001000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5103776
+SHUFFLE	COMPRESS_BYTE_COUNT	748599
+SHUFFLE	COPY_MAP_DATA	77515000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5081744
+SHUFFLE	COMPRESS_BYTE_COUNT	745084
+SHUFFLE	COPY_MAP_DATA	48883000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5089292
+SHUFFLE	COMPRESS_BYTE_COUNT	746409
+SHUFFLE	COPY_MAP_DATA	2013085000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5112548
+SHUFFLE	COMPRESS_BYTE_COUNT	749346
+SHUFFLE	COPY_MAP_DATA	248328000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5079500
+SHUFFLE	COMPRESS_BYTE_COUNT	744630
+SHUFFLE	COPY_MAP_DATA	46443000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5065832
+SHUFFLE	COMPRESS_BYTE_COUNT	742858
+SHUFFLE	COPY_MAP_DATA	936776000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5109998
+SHUFFLE	COMPRESS_BYTE_COUNT	749573
+SHUFFLE	COPY_MAP_DATA	141109000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5115200
+SHUFFLE	COMPRESS_BYTE_COUNT	750172
+SHUFFLE	COPY_MAP_DATA	53383000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5078072
+SHUFFLE	COMPRESS_BYTE_COUNT	745040
+SHUFFLE	COPY_MAP_DATA	151789000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5095718
+SHUFFLE	COMPRESS_BYTE_COUNT	747436
+SHUFFLE	COPY_MAP_DATA	80834000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5057672
+SHUFFLE	COMPRESS_BYTE_COUNT	742046
+SHUFFLE	COPY_MAP_DATA	104588000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5084906
+SHUFFLE	COMPRESS_BYTE_COUNT	746038
+SHUFFLE	COPY_MAP_DATA	51667000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5076134
+SHUFFLE	COMPRESS_BYTE_COUNT	745097
+SHUFFLE	COPY_MAP_DATA	2400416000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5049104
+SHUFFLE	COMPRESS_BYTE_COUNT	740347
+SHUFFLE	COPY_MAP_DATA	154678000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5080724
+SHUFFLE	COMPRESS_BYTE_COUNT	745251
+SHUFFLE	COPY_MAP_DATA	47292000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5110508
+SHUFFLE	COMPRESS_BYTE_COUNT	749397
+SHUFFLE	COPY_MAP_DATA	67089000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5101940
+SHUFFLE	COMPRESS_BYTE_COUNT	741265
+SHUFFLE	COPY_MAP_DATA	47711000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5029520
+SHUFFLE	COMPRESS_BYTE_COUNT	737829
+SHUFFLE	COPY_MAP_DATA	45151000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5114078
+SHUFFLE	COMPRESS_BYTE_COUNT	749785
+SHUFFLE	COPY_MAP_DATA	1683974000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5094596
+SHUFFLE	COMPRESS_BYTE_COUNT	747031
+SHUFFLE	COPY_MAP_DATA	1423867000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5083070
+SHUFFLE	COMPRESS_BYTE_COUNT	745552
+SHUFFLE	COPY_MAP_DATA	720680000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5097554
+SHUFFLE	COMPRESS_BYTE_COUNT	747475
+SHUFFLE	COPY_MAP_DATA	139025000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5092964
+SHUFFLE	COMPRESS_BYTE_COUNT	746804
+SHUFFLE	COPY_MAP_DATA	1404813000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5087048
+SHUFFLE	COMPRESS_BYTE_COUNT	746012
+SHUFFLE	COPY_MAP_DATA	624241000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5074706
+SHUFFLE	COMPRESS_BYTE_COUNT	744109
+SHUFFLE	COPY_MAP_DATA	94414000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1204622
+SHUFFLE	COMPRESS_BYTE_COUNT	174778
+SHUFFLE	COPY_MAP_DATA	783685000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5118158
+SHUFFLE	COMPRESS_BYTE_COUNT	750268
+SHUFFLE	COPY_MAP_DATA	74444000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5082458
+SHUFFLE	COMPRESS_BYTE_COUNT	745247
+SHUFFLE	COPY_MAP_DATA	289975000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1202684
+SHUFFLE	COMPRESS_BYTE_COUNT	174546
+SHUFFLE	COPY_MAP_DATA	592804000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5131520
+SHUFFLE	COMPRESS_BYTE_COUNT	752723
+SHUFFLE	COPY_MAP_DATA	11639764000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5101634
+SHUFFLE	COMPRESS_BYTE_COUNT	747830
+SHUFFLE	COPY_MAP_DATA	45992000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1203194
+SHUFFLE	COMPRESS_BYTE_COUNT	174694
+SHUFFLE	COPY_MAP_DATA	43781000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5083478
+SHUFFLE	COMPRESS_BYTE_COUNT	745719
+SHUFFLE	COPY_MAP_DATA	46949000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5094698
+SHUFFLE	COMPRESS_BYTE_COUNT	747368
+SHUFFLE	COPY_MAP_DATA	47514000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5080316
+SHUFFLE	COMPRESS_BYTE_COUNT	745388
+SHUFFLE	COPY_MAP_DATA	176060000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5091944
+SHUFFLE	COMPRESS_BYTE_COUNT	747243
+SHUFFLE	COPY_MAP_DATA	6236143000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5056448
+SHUFFLE	COMPRESS_BYTE_COUNT	741689
+SHUFFLE	COPY_MAP_DATA	49351000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5092454
+SHUFFLE	COMPRESS_BYTE_COUNT	746894
+SHUFFLE	COPY_MAP_DATA	50281000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5093780
+SHUFFLE	COMPRESS_BYTE_COUNT	747124
+SHUFFLE	COPY_MAP_DATA	67552000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5120504
+SHUFFLE	COMPRESS_BYTE_COUNT	750886
+SHUFFLE	COPY_MAP_DATA	67521000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1178612
+SHUFFLE	COMPRESS_BYTE_COUNT	171056
+SHUFFLE	COPY_MAP_DATA	13013000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5073074
+SHUFFLE	COMPRESS_BYTE_COUNT	744367
+SHUFFLE	COPY_MAP_DATA	233746000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5097758
+SHUFFLE	COMPRESS_BYTE_COUNT	747401
+SHUFFLE	COPY_MAP_DATA	343933000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1196972
+SHUFFLE	COMPRESS_BYTE_COUNT	173820
+SHUFFLE	COPY_MAP_DATA	71610000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5110916
+SHUFFLE	COMPRESS_BYTE_COUNT	749011
+SHUFFLE	COPY_MAP_DATA	142484000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5090210
+SHUFFLE	COMPRESS_BYTE_COUNT	746517
+SHUFFLE	COPY_MAP_DATA	49905000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5077970
+SHUFFLE	COMPRESS_BYTE_COUNT	745166
+SHUFFLE	COPY_MAP_DATA	43302000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5084804
+SHUFFLE	COMPRESS_BYTE_COUNT	746061
+SHUFFLE	COPY_MAP_DATA	720000000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5103776
+SHUFFLE	COMPRESS_BYTE_COUNT	748553
+SHUFFLE	COPY_MAP_DATA	77662000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5105510
+SHUFFLE	COMPRESS_BYTE_COUNT	748654
+SHUFFLE	COPY_MAP_DATA	376350000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5087252
+SHUFFLE	COMPRESS_BYTE_COUNT	745935
+SHUFFLE	COPY_MAP_DATA	5395868000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1193096
+SHUFFLE	COMPRESS_BYTE_COUNT	173272
+SHUFFLE	COPY_MAP_DATA	13660000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5044412
+SHUFFLE	COMPRESS_BYTE_COUNT	739748
+SHUFFLE	COPY_MAP_DATA	3316230000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5070626
+SHUFFLE	COMPRESS_BYTE_COUNT	743564
+SHUFFLE	COPY_MAP_DATA	6951926000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1204724
+SHUFFLE	COMPRESS_BYTE_COUNT	174863
+SHUFFLE	COPY_MAP_DATA	14070000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1228082
+SHUFFLE	COMPRESS_BYTE_COUNT	178184
+SHUFFLE	COPY_MAP_DATA	3884279000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5081948
+SHUFFLE	COMPRESS_BYTE_COUNT	745811
+SHUFFLE	COPY_MAP_DATA	51397000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5123666
+SHUFFLE	COMPRESS_BYTE_COUNT	751274
+SHUFFLE	COPY_MAP_DATA	52816000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5033906
+SHUFFLE	COMPRESS_BYTE_COUNT	738480
+SHUFFLE	COPY_MAP_DATA	45310000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5099900
+SHUFFLE	COMPRESS_BYTE_COUNT	747524
+SHUFFLE	COPY_MAP_DATA	56464000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5074298
+SHUFFLE	COMPRESS_BYTE_COUNT	744081
+SHUFFLE	COPY_MAP_DATA	7240686000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1170962
+SHUFFLE	COMPRESS_BYTE_COUNT	170008
+SHUFFLE	COPY_MAP_DATA	15238000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5085824
+SHUFFLE	COMPRESS_BYTE_COUNT	746290
+SHUFFLE	COPY_MAP_DATA	90752000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5070524
+SHUFFLE	COMPRESS_BYTE_COUNT	743762
+SHUFFLE	COPY_MAP_DATA	47095000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5118056
+SHUFFLE	COMPRESS_BYTE_COUNT	750780
+SHUFFLE	COPY_MAP_DATA	4049807000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5091128
+SHUFFLE	COMPRESS_BYTE_COUNT	746603
+SHUFFLE	COPY_MAP_DATA	50582000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1185446
+SHUFFLE	COMPRESS_BYTE_COUNT	172157
+SHUFFLE	COPY_MAP_DATA	13726000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5081642
+SHUFFLE	COMPRESS_BYTE_COUNT	745191
+SHUFFLE	COPY_MAP_DATA	941450000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1196564
+SHUFFLE	COMPRESS_BYTE_COUNT	173804
+SHUFFLE	COPY_MAP_DATA	12760000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1182386
+SHUFFLE	COMPRESS_BYTE_COUNT	171605
+SHUFFLE	COPY_MAP_DATA	2485537000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5103980
+SHUFFLE	COMPRESS_BYTE_COUNT	748843
+SHUFFLE	COPY_MAP_DATA	243364000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5101940
+SHUFFLE	COMPRESS_BYTE_COUNT	748183
+SHUFFLE	COPY_MAP_DATA	107877000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5112140
+SHUFFLE	COMPRESS_BYTE_COUNT	749368
+SHUFFLE	COPY_MAP_DATA	47176000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1202378
+SHUFFLE	COMPRESS_BYTE_COUNT	174588
+SHUFFLE	COPY_MAP_DATA	13405000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5027888
+SHUFFLE	COMPRESS_BYTE_COUNT	737143
+SHUFFLE	COPY_MAP_DATA	44981000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1177286
+SHUFFLE	COMPRESS_BYTE_COUNT	170871
+SHUFFLE	COPY_MAP_DATA	13686000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5063690
+SHUFFLE	COMPRESS_BYTE_COUNT	743138
+SHUFFLE	COPY_MAP_DATA	75367000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1193300
+SHUFFLE	COMPRESS_BYTE_COUNT	173330
+SHUFFLE	COPY_MAP_DATA	15121000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1204928
+SHUFFLE	COMPRESS_BYTE_COUNT	174875
+SHUFFLE	COPY_MAP_DATA	13469000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1201868
+SHUFFLE	COMPRESS_BYTE_COUNT	174539
+SHUFFLE	COPY_MAP_DATA	74199000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1187282
+SHUFFLE	COMPRESS_BYTE_COUNT	172455
+SHUFFLE	COPY_MAP_DATA	12025000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1207784
+SHUFFLE	COMPRESS_BYTE_COUNT	175291
+SHUFFLE	COPY_MAP_DATA	13495000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5090720
+SHUFFLE	COMPRESS_BYTE_COUNT	747293
+SHUFFLE	COPY_MAP_DATA	71242000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1191362
+SHUFFLE	COMPRESS_BYTE_COUNT	172939
+SHUFFLE	COPY_MAP_DATA	323346000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5096840
+SHUFFLE	COMPRESS_BYTE_COUNT	747466
+SHUFFLE	COPY_MAP_DATA	45907000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1191158
+SHUFFLE	COMPRESS_BYTE_COUNT	172952
+SHUFFLE	COPY_MAP_DATA	56098000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5099798
+SHUFFLE	COMPRESS_BYTE_COUNT	747826
+SHUFFLE	COPY_MAP_DATA	124005000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1211048
+SHUFFLE	COMPRESS_BYTE_COUNT	175767
+SHUFFLE	COPY_MAP_DATA	14484000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5122646
+SHUFFLE	COMPRESS_BYTE_COUNT	751714
+SHUFFLE	COPY_MAP_DATA	110002000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1200746
+SHUFFLE	COMPRESS_BYTE_COUNT	174327
+SHUFFLE	COPY_MAP_DATA	2755465000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1202276
+SHUFFLE	COMPRESS_BYTE_COUNT	174462
+SHUFFLE	COPY_MAP_DATA	98620000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5093168
+SHUFFLE	COMPRESS_BYTE_COUNT	746705
+SHUFFLE	COPY_MAP_DATA	93749000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5131316
+SHUFFLE	COMPRESS_BYTE_COUNT	752688
+SHUFFLE	COPY_MAP_DATA	250548000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5070524
+SHUFFLE	COMPRESS_BYTE_COUNT	743365
+SHUFFLE	COPY_MAP_DATA	43409000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5071136
+SHUFFLE	COMPRESS_BYTE_COUNT	743377
+SHUFFLE	COPY_MAP_DATA	1904334000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1198604
+SHUFFLE	COMPRESS_BYTE_COUNT	173987
+SHUFFLE	COPY_MAP_DATA	3080782000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1197074
+SHUFFLE	COMPRESS_BYTE_COUNT	173663
+SHUFFLE	COPY_MAP_DATA	15766000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1191158
+SHUFFLE	COMPRESS_BYTE_COUNT	172812
+SHUFFLE	COPY_MAP_DATA	18781000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1210946
+SHUFFLE	COMPRESS_BYTE_COUNT	175864
+SHUFFLE	COPY_MAP_DATA	15126000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1216556
+SHUFFLE	COMPRESS_BYTE_COUNT	176523
+SHUFFLE	COPY_MAP_DATA	13487000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1206152
+SHUFFLE	COMPRESS_BYTE_COUNT	175036
+SHUFFLE	COPY_MAP_DATA	24493000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1182386
+SHUFFLE	COMPRESS_BYTE_COUNT	171536
+SHUFFLE	COPY_MAP_DATA	12997000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1214108
+SHUFFLE	COMPRESS_BYTE_COUNT	176143
+SHUFFLE	COPY_MAP_DATA	24693000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1191770
+SHUFFLE	COMPRESS_BYTE_COUNT	172923
+SHUFFLE	COPY_MAP_DATA	12957000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1199828
+SHUFFLE	COMPRESS_BYTE_COUNT	174179
+SHUFFLE	COPY_MAP_DATA	12919000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1196564
+SHUFFLE	COMPRESS_BYTE_COUNT	173666
+SHUFFLE	COPY_MAP_DATA	6940169000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1186874
+SHUFFLE	COMPRESS_BYTE_COUNT	172393
+SHUFFLE	COPY_MAP_DATA	12736000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5102246
+SHUFFLE	COMPRESS_BYTE_COUNT	748067
+SHUFFLE	COPY_MAP_DATA	44794000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5100308
+SHUFFLE	COMPRESS_BYTE_COUNT	748191
+SHUFFLE	COPY_MAP_DATA	992182000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5073482
+SHUFFLE	COMPRESS_BYTE_COUNT	744400
+SHUFFLE	COPY_MAP_DATA	912582000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1197074
+SHUFFLE	COMPRESS_BYTE_COUNT	173847
+SHUFFLE	COPY_MAP_DATA	17822000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1223900
+SHUFFLE	COMPRESS_BYTE_COUNT	177587
+SHUFFLE	COPY_MAP_DATA	12822000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1198094
+SHUFFLE	COMPRESS_BYTE_COUNT	173911
+SHUFFLE	COPY_MAP_DATA	11899000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1199624
+SHUFFLE	COMPRESS_BYTE_COUNT	174201
+SHUFFLE	COPY_MAP_DATA	13145000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1194116
+SHUFFLE	COMPRESS_BYTE_COUNT	173442
+SHUFFLE	COPY_MAP_DATA	70118000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1208906
+SHUFFLE	COMPRESS_BYTE_COUNT	175450
+SHUFFLE	COPY_MAP_DATA	4637736000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1202174
+SHUFFLE	COMPRESS_BYTE_COUNT	174468
+SHUFFLE	COPY_MAP_DATA	321214000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1206560
+SHUFFLE	COMPRESS_BYTE_COUNT	175188
+SHUFFLE	COPY_MAP_DATA	12787000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1191362
+SHUFFLE	COMPRESS_BYTE_COUNT	172951
+SHUFFLE	COPY_MAP_DATA	11589000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5115710
+SHUFFLE	COMPRESS_BYTE_COUNT	750317
+SHUFFLE	COPY_MAP_DATA	355294000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1208702
+SHUFFLE	COMPRESS_BYTE_COUNT	175416
+SHUFFLE	COPY_MAP_DATA	12814000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1170962
+SHUFFLE	COMPRESS_BYTE_COUNT	169955
+SHUFFLE	COPY_MAP_DATA	12438000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1211252
+SHUFFLE	COMPRESS_BYTE_COUNT	175717
+SHUFFLE	COPY_MAP_DATA	12380000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5085722
+SHUFFLE	COMPRESS_BYTE_COUNT	745576
+SHUFFLE	COPY_MAP_DATA	3421755000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5098982
+SHUFFLE	COMPRESS_BYTE_COUNT	747891
+SHUFFLE	COPY_MAP_DATA	45465000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1196972
+SHUFFLE	COMPRESS_BYTE_COUNT	173837
+SHUFFLE	COPY_MAP_DATA	12829000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1215026
+SHUFFLE	COMPRESS_BYTE_COUNT	176409
+SHUFFLE	COPY_MAP_DATA	12491000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1197176
+SHUFFLE	COMPRESS_BYTE_COUNT	173792
+SHUFFLE	COPY_MAP_DATA	6953141000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5098064
+SHUFFLE	COMPRESS_BYTE_COUNT	747140
+SHUFFLE	COPY_MAP_DATA	45803000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1178510
+SHUFFLE	COMPRESS_BYTE_COUNT	171179
+SHUFFLE	COPY_MAP_DATA	13617000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1197992
+SHUFFLE	COMPRESS_BYTE_COUNT	173841
+SHUFFLE	COPY_MAP_DATA	12735000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5045126
+SHUFFLE	COMPRESS_BYTE_COUNT	739929
+SHUFFLE	COPY_MAP_DATA	452422000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1198706
+SHUFFLE	COMPRESS_BYTE_COUNT	174023
+SHUFFLE	COPY_MAP_DATA	23638000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1194728
+SHUFFLE	COMPRESS_BYTE_COUNT	173466
+SHUFFLE	COPY_MAP_DATA	14239000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1216760
+SHUFFLE	COMPRESS_BYTE_COUNT	176506
+SHUFFLE	COPY_MAP_DATA	15563000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5049614
+SHUFFLE	COMPRESS_BYTE_COUNT	740925
+SHUFFLE	COPY_MAP_DATA	46316000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1184222
+SHUFFLE	COMPRESS_BYTE_COUNT	171943
+SHUFFLE	COPY_MAP_DATA	100199000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1215842
+SHUFFLE	COMPRESS_BYTE_COUNT	176487
+SHUFFLE	COPY_MAP_DATA	12776000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1221554
+SHUFFLE	COMPRESS_BYTE_COUNT	177286
+SHUFFLE	COPY_MAP_DATA	183043000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1194218
+SHUFFLE	COMPRESS_BYTE_COUNT	173497
+SHUFFLE	COPY_MAP_DATA	97062000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1203806
+SHUFFLE	COMPRESS_BYTE_COUNT	174947
+SHUFFLE	COPY_MAP_DATA	11871000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1204418
+SHUFFLE	COMPRESS_BYTE_COUNT	174715
+SHUFFLE	COPY_MAP_DATA	14843000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1200644
+SHUFFLE	COMPRESS_BYTE_COUNT	174267
+SHUFFLE	COPY_MAP_DATA	12798000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1202888
+SHUFFLE	COMPRESS_BYTE_COUNT	174662
+SHUFFLE	COPY_MAP_DATA	12430000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1188608
+SHUFFLE	COMPRESS_BYTE_COUNT	172687
+SHUFFLE	COPY_MAP_DATA	12856000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1194320
+SHUFFLE	COMPRESS_BYTE_COUNT	173342
+SHUFFLE	COPY_MAP_DATA	13566000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5076236
+SHUFFLE	COMPRESS_BYTE_COUNT	744296
+SHUFFLE	COPY_MAP_DATA	45880000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1216250
+SHUFFLE	COMPRESS_BYTE_COUNT	176487
+SHUFFLE	COPY_MAP_DATA	84568000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1198604
+SHUFFLE	COMPRESS_BYTE_COUNT	173912
+SHUFFLE	COPY_MAP_DATA	19549000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1213292
+SHUFFLE	COMPRESS_BYTE_COUNT	176238
+SHUFFLE	COPY_MAP_DATA	21808000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1207886
+SHUFFLE	COMPRESS_BYTE_COUNT	175381
+SHUFFLE	COPY_MAP_DATA	69651000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1194728
+SHUFFLE	COMPRESS_BYTE_COUNT	173490
+SHUFFLE	COPY_MAP_DATA	45661000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1191362
+SHUFFLE	COMPRESS_BYTE_COUNT	173126
+SHUFFLE	COPY_MAP_DATA	42457000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1197992
+SHUFFLE	COMPRESS_BYTE_COUNT	173982
+SHUFFLE	COPY_MAP_DATA	12768000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1203398
+SHUFFLE	COMPRESS_BYTE_COUNT	174572
+SHUFFLE	COPY_MAP_DATA	13681000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1203806
+SHUFFLE	COMPRESS_BYTE_COUNT	174691
+SHUFFLE	COPY_MAP_DATA	12252000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1179122
+SHUFFLE	COMPRESS_BYTE_COUNT	171186
+SHUFFLE	COPY_MAP_DATA	27218000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1199216
+SHUFFLE	COMPRESS_BYTE_COUNT	174029
+SHUFFLE	COPY_MAP_DATA	25677000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1190954
+SHUFFLE	COMPRESS_BYTE_COUNT	172944
+SHUFFLE	COPY_MAP_DATA	37068000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1196564
+SHUFFLE	COMPRESS_BYTE_COUNT	173803
+SHUFFLE	COPY_MAP_DATA	11510000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1212986
+SHUFFLE	COMPRESS_BYTE_COUNT	176002
+SHUFFLE	COPY_MAP_DATA	21104000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1197176
+SHUFFLE	COMPRESS_BYTE_COUNT	173694
+SHUFFLE	COPY_MAP_DATA	14333000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1191668
+SHUFFLE	COMPRESS_BYTE_COUNT	173144
+SHUFFLE	COPY_MAP_DATA	13080000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1188812
+SHUFFLE	COMPRESS_BYTE_COUNT	172510
+SHUFFLE	COPY_MAP_DATA	51490000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1168718
+SHUFFLE	COMPRESS_BYTE_COUNT	169631
+SHUFFLE	COPY_MAP_DATA	12636000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1198706
+SHUFFLE	COMPRESS_BYTE_COUNT	173959
+SHUFFLE	COPY_MAP_DATA	59561000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1195748
+SHUFFLE	COMPRESS_BYTE_COUNT	173673
+SHUFFLE	COPY_MAP_DATA	12633000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1189016
+SHUFFLE	COMPRESS_BYTE_COUNT	172486
+SHUFFLE	COPY_MAP_DATA	11753000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1197074
+SHUFFLE	COMPRESS_BYTE_COUNT	173731
+SHUFFLE	COPY_MAP_DATA	12603000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1190852
+SHUFFLE	COMPRESS_BYTE_COUNT	172863
+SHUFFLE	COPY_MAP_DATA	13237000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1180346
+SHUFFLE	COMPRESS_BYTE_COUNT	171486
+SHUFFLE	COPY_MAP_DATA	13544000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1197788
+SHUFFLE	COMPRESS_BYTE_COUNT	173831
+SHUFFLE	COPY_MAP_DATA	31477000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1192178
+SHUFFLE	COMPRESS_BYTE_COUNT	173141
+SHUFFLE	COPY_MAP_DATA	29345000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1204622
+SHUFFLE	COMPRESS_BYTE_COUNT	174858
+SHUFFLE	COPY_MAP_DATA	12958000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1195544
+SHUFFLE	COMPRESS_BYTE_COUNT	173574
+SHUFFLE	COPY_MAP_DATA	12732000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1193810
+SHUFFLE	COMPRESS_BYTE_COUNT	173193
+SHUFFLE	COPY_MAP_DATA	12388000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1194422
+SHUFFLE	COMPRESS_BYTE_COUNT	173365
+SHUFFLE	COPY_MAP_DATA	101678000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1186874
+SHUFFLE	COMPRESS_BYTE_COUNT	172362
+SHUFFLE	COPY_MAP_DATA	15595000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1215638
+SHUFFLE	COMPRESS_BYTE_COUNT	176395
+SHUFFLE	COPY_MAP_DATA	14238000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1205846
+SHUFFLE	COMPRESS_BYTE_COUNT	175092
+SHUFFLE	COPY_MAP_DATA	14303000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1202072
+SHUFFLE	COMPRESS_BYTE_COUNT	174539
+SHUFFLE	COPY_MAP_DATA	396936000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	301583576000
+MERGE	READ_WRITE	288484217000
+MERGE	READ_WRITE_COUNT	9
+MERGE	COMBINE	0
+MERGE	WRITE	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	826118000
+SORT	READ_WRITE	725943000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	167319568
+REDUCE	SETUP	325000
+REDUCE	SETUP_MEM	167319568
+REDUCE	CLEANUP	52000
+REDUCE	CLEANUP_MEM	127091440
+REDUCE	TOTAL_RUN	182239370000
+REDUCE	READ	31990085000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	92272380000
+REDUCE	WRITE	37171941000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	111486370
+REDUCE	VALUE_BYTE_COUNT	981080056
+REDUCE	REDUCE_MEM	127093488
+REDUCE	WRITE	4362000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	719408944000
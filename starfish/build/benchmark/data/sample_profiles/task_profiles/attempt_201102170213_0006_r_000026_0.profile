@@ -0,0 +1,1229 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5033600
+SHUFFLE	COMPRESS_BYTE_COUNT	738580
+SHUFFLE	COPY_MAP_DATA	1876594000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5005346
+SHUFFLE	COMPRESS_BYTE_COUNT	733582
+SHUFFLE	COPY_MAP_DATA	200907000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5036456
+SHUFFLE	COMPRESS_BYTE_COUNT	739128
+SHUFFLE	COPY_MAP_DATA	2888787000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5039618
+SHUFFLE	COMPRESS_BYTE_COUNT	739240
+SHUFFLE	COPY_MAP_DATA	116987000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5015036
+SHUFFLE	COMPRESS_BYTE_COUNT	735495
+SHUFFLE	COPY_MAP_DATA	150072000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5001776
+SHUFFLE	COMPRESS_BYTE_COUNT	733860
+SHUFFLE	COPY_MAP_DATA	59095000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5002184
+SHUFFLE	COMPRESS_BYTE_COUNT	733506
+SHUFFLE	COPY_MAP_DATA	139912000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5006264
+SHUFFLE	COMPRESS_BYTE_COUNT	734213
+SHUFFLE	COPY_MAP_DATA	58741000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4998206
+SHUFFLE	COMPRESS_BYTE_COUNT	732820
+SHUFFLE	COPY_MAP_DATA	214273000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5032784
+SHUFFLE	COMPRESS_BYTE_COUNT	738306
+SHUFFLE	COPY_MAP_DATA	291010000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5002388
+SHUFFLE	COMPRESS_BYTE_COUNT	733579
+SHUFFLE	COPY_MAP_DATA	49718000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4966178
+SHUFFLE	COMPRESS_BYTE_COUNT	728816
+SHUFFLE	COPY_MAP_DATA	160119000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5048900
+SHUFFLE	COMPRESS_BYTE_COUNT	740207
+SHUFFLE	COPY_MAP_DATA	110392000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5035232
+SHUFFLE	COMPRESS_BYTE_COUNT	738676
+SHUFFLE	COPY_MAP_DATA	84800000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5006264
+SHUFFLE	COMPRESS_BYTE_COUNT	734394
+SHUFFLE	COPY_MAP_DATA	47039000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4978826
+SHUFFLE	COMPRESS_BYTE_COUNT	730490
+SHUFFLE	COPY_MAP_DATA	114658000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5027888
+SHUFFLE	COMPRESS_BYTE_COUNT	737592
+SHUFFLE	COPY_MAP_DATA	82386000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5016566
+SHUFFLE	COMPRESS_BYTE_COUNT	735832
+SHUFFLE	COPY_MAP_DATA	61469000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5004938
+SHUFFLE	COMPRESS_BYTE_COUNT	734183
+SHUFFLE	COPY_MAP_DATA	168422000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5003714
+SHUFFLE	COMPRESS_BYTE_COUNT	733921
+SHUFFLE	COPY_MAP_DATA	46745000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5059814
+SHUFFLE	COMPRESS_BYTE_COUNT	741870
+SHUFFLE	COPY_MAP_DATA	52014000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5004938
+SHUFFLE	COMPRESS_BYTE_COUNT	734096
+SHUFFLE	COPY_MAP_DATA	92730000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5050634
+SHUFFLE	COMPRESS_BYTE_COUNT	741037
+SHUFFLE	COPY_MAP_DATA	50251000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5048288
+SHUFFLE	COMPRESS_BYTE_COUNT	740605
+SHUFFLE	COPY_MAP_DATA	291033000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5032682
+SHUFFLE	COMPRESS_BYTE_COUNT	738116
+SHUFFLE	COPY_MAP_DATA	50033000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5017484
+SHUFFLE	COMPRESS_BYTE_COUNT	735905
+SHUFFLE	COPY_MAP_DATA	73910000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5031764
+SHUFFLE	COMPRESS_BYTE_COUNT	738470
+SHUFFLE	COPY_MAP_DATA	227180000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5042066
+SHUFFLE	COMPRESS_BYTE_COUNT	739555
+SHUFFLE	COPY_MAP_DATA	108172000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5047880
+SHUFFLE	COMPRESS_BYTE_COUNT	740182
+SHUFFLE	COPY_MAP_DATA	265860000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5052062
+SHUFFLE	COMPRESS_BYTE_COUNT	740847
+SHUFFLE	COPY_MAP_DATA	290798000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5041046
+SHUFFLE	COMPRESS_BYTE_COUNT	739786
+SHUFFLE	COPY_MAP_DATA	79912000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5019524
+SHUFFLE	COMPRESS_BYTE_COUNT	736020
+SHUFFLE	COPY_MAP_DATA	389516000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5048288
+SHUFFLE	COMPRESS_BYTE_COUNT	740610
+SHUFFLE	COPY_MAP_DATA	47714000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5067872
+SHUFFLE	COMPRESS_BYTE_COUNT	742860
+SHUFFLE	COPY_MAP_DATA	318291000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5040332
+SHUFFLE	COMPRESS_BYTE_COUNT	738977
+SHUFFLE	COPY_MAP_DATA	49416000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5052980
+SHUFFLE	COMPRESS_BYTE_COUNT	741118
+SHUFFLE	COPY_MAP_DATA	148320000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5035742
+SHUFFLE	COMPRESS_BYTE_COUNT	738445
+SHUFFLE	COPY_MAP_DATA	88573000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5005652
+SHUFFLE	COMPRESS_BYTE_COUNT	734430
+SHUFFLE	COPY_MAP_DATA	114146000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5053592
+SHUFFLE	COMPRESS_BYTE_COUNT	741533
+SHUFFLE	COPY_MAP_DATA	224737000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5008100
+SHUFFLE	COMPRESS_BYTE_COUNT	734805
+SHUFFLE	COPY_MAP_DATA	49278000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5043698
+SHUFFLE	COMPRESS_BYTE_COUNT	739989
+SHUFFLE	COPY_MAP_DATA	187176000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5016770
+SHUFFLE	COMPRESS_BYTE_COUNT	735938
+SHUFFLE	COPY_MAP_DATA	55540000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5053694
+SHUFFLE	COMPRESS_BYTE_COUNT	741577
+SHUFFLE	COPY_MAP_DATA	49752000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5047676
+SHUFFLE	COMPRESS_BYTE_COUNT	740004
+SHUFFLE	COPY_MAP_DATA	67064000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5025440
+SHUFFLE	COMPRESS_BYTE_COUNT	737152
+SHUFFLE	COPY_MAP_DATA	113234000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5036252
+SHUFFLE	COMPRESS_BYTE_COUNT	738560
+SHUFFLE	COPY_MAP_DATA	88417000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5038394
+SHUFFLE	COMPRESS_BYTE_COUNT	738584
+SHUFFLE	COPY_MAP_DATA	91901000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5019932
+SHUFFLE	COMPRESS_BYTE_COUNT	736685
+SHUFFLE	COPY_MAP_DATA	64656000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5030030
+SHUFFLE	COMPRESS_BYTE_COUNT	737748
+SHUFFLE	COPY_MAP_DATA	62682000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5036966
+SHUFFLE	COMPRESS_BYTE_COUNT	738827
+SHUFFLE	COPY_MAP_DATA	45319000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5022890
+SHUFFLE	COMPRESS_BYTE_COUNT	736960
+SHUFFLE	COPY_MAP_DATA	46972000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5018912
+SHUFFLE	COMPRESS_BYTE_COUNT	735956
+SHUFFLE	COPY_MAP_DATA	162957000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5019626
+SHUFFLE	COMPRESS_BYTE_COUNT	736353
+SHUFFLE	COPY_MAP_DATA	79656000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5043494
+SHUFFLE	COMPRESS_BYTE_COUNT	739598
+SHUFFLE	COPY_MAP_DATA	48777000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5019524
+SHUFFLE	COMPRESS_BYTE_COUNT	736081
+SHUFFLE	COPY_MAP_DATA	62382000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5049920
+SHUFFLE	COMPRESS_BYTE_COUNT	740841
+SHUFFLE	COPY_MAP_DATA	447668000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5041148
+SHUFFLE	COMPRESS_BYTE_COUNT	734818
+SHUFFLE	COPY_MAP_DATA	117195000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5019218
+SHUFFLE	COMPRESS_BYTE_COUNT	735968
+SHUFFLE	COPY_MAP_DATA	97714000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4989944
+SHUFFLE	COMPRESS_BYTE_COUNT	731617
+SHUFFLE	COPY_MAP_DATA	770281000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5038496
+SHUFFLE	COMPRESS_BYTE_COUNT	739013
+SHUFFLE	COPY_MAP_DATA	516538000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4979030
+SHUFFLE	COMPRESS_BYTE_COUNT	730889
+SHUFFLE	COPY_MAP_DATA	49870000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4996166
+SHUFFLE	COMPRESS_BYTE_COUNT	733291
+SHUFFLE	COPY_MAP_DATA	1309419798
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5040230
+SHUFFLE	COMPRESS_BYTE_COUNT	739085
+SHUFFLE	COPY_MAP_DATA	47192000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5044310
+SHUFFLE	COMPRESS_BYTE_COUNT	739413
+SHUFFLE	COPY_MAP_DATA	44656000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5010956
+SHUFFLE	COMPRESS_BYTE_COUNT	735157
+SHUFFLE	COPY_MAP_DATA	54907000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5008712
+SHUFFLE	COMPRESS_BYTE_COUNT	734667
+SHUFFLE	COPY_MAP_DATA	47638000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5061752
+SHUFFLE	COMPRESS_BYTE_COUNT	742593
+SHUFFLE	COPY_MAP_DATA	118203000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5021360
+SHUFFLE	COMPRESS_BYTE_COUNT	736141
+SHUFFLE	COPY_MAP_DATA	47094000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5015648
+SHUFFLE	COMPRESS_BYTE_COUNT	735940
+SHUFFLE	COPY_MAP_DATA	54182000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5046350
+SHUFFLE	COMPRESS_BYTE_COUNT	740473
+SHUFFLE	COPY_MAP_DATA	47241000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5033702
+SHUFFLE	COMPRESS_BYTE_COUNT	738206
+SHUFFLE	COPY_MAP_DATA	2306891000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5082152
+SHUFFLE	COMPRESS_BYTE_COUNT	745344
+SHUFFLE	COPY_MAP_DATA	44611000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5043800
+SHUFFLE	COMPRESS_BYTE_COUNT	739514
+SHUFFLE	COPY_MAP_DATA	374422000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5034416
+SHUFFLE	COMPRESS_BYTE_COUNT	738760
+SHUFFLE	COPY_MAP_DATA	6800840000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5056040
+SHUFFLE	COMPRESS_BYTE_COUNT	741937
+SHUFFLE	COPY_MAP_DATA	264329000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5003102
+SHUFFLE	COMPRESS_BYTE_COUNT	733595
+SHUFFLE	COPY_MAP_DATA	2750984000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5058284
+SHUFFLE	COMPRESS_BYTE_COUNT	741537
+SHUFFLE	COPY_MAP_DATA	61070000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5116322
+SHUFFLE	COMPRESS_BYTE_COUNT	750341
+SHUFFLE	COPY_MAP_DATA	51439000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5022074
+SHUFFLE	COMPRESS_BYTE_COUNT	736845
+SHUFFLE	COPY_MAP_DATA	58885000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5043290
+SHUFFLE	COMPRESS_BYTE_COUNT	739530
+SHUFFLE	COPY_MAP_DATA	3320546000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5009426
+SHUFFLE	COMPRESS_BYTE_COUNT	734901
+SHUFFLE	COPY_MAP_DATA	160671000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5021462
+SHUFFLE	COMPRESS_BYTE_COUNT	736809
+SHUFFLE	COPY_MAP_DATA	173747000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4979846
+SHUFFLE	COMPRESS_BYTE_COUNT	730348
+SHUFFLE	COPY_MAP_DATA	46484000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5041148
+SHUFFLE	COMPRESS_BYTE_COUNT	739030
+SHUFFLE	COPY_MAP_DATA	7051715000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5035436
+SHUFFLE	COMPRESS_BYTE_COUNT	738321
+SHUFFLE	COPY_MAP_DATA	45488000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5034722
+SHUFFLE	COMPRESS_BYTE_COUNT	738753
+SHUFFLE	COPY_MAP_DATA	2578695000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5006060
+SHUFFLE	COMPRESS_BYTE_COUNT	734001
+SHUFFLE	COPY_MAP_DATA	1351962000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5013812
+SHUFFLE	COMPRESS_BYTE_COUNT	735164
+SHUFFLE	COPY_MAP_DATA	11515841646
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5035844
+SHUFFLE	COMPRESS_BYTE_COUNT	738687
+SHUFFLE	COPY_MAP_DATA	504543000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5001674
+SHUFFLE	COMPRESS_BYTE_COUNT	733989
+SHUFFLE	COPY_MAP_DATA	60162000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5016260
+SHUFFLE	COMPRESS_BYTE_COUNT	736051
+SHUFFLE	COPY_MAP_DATA	66066000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5007080
+SHUFFLE	COMPRESS_BYTE_COUNT	734414
+SHUFFLE	COPY_MAP_DATA	240880000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5037680
+SHUFFLE	COMPRESS_BYTE_COUNT	738639
+SHUFFLE	COPY_MAP_DATA	1974699000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5049206
+SHUFFLE	COMPRESS_BYTE_COUNT	740698
+SHUFFLE	COPY_MAP_DATA	166054000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5000348
+SHUFFLE	COMPRESS_BYTE_COUNT	733651
+SHUFFLE	COPY_MAP_DATA	46133000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5026460
+SHUFFLE	COMPRESS_BYTE_COUNT	737481
+SHUFFLE	COPY_MAP_DATA	51004000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5008304
+SHUFFLE	COMPRESS_BYTE_COUNT	734447
+SHUFFLE	COPY_MAP_DATA	49575000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5002388
+SHUFFLE	COMPRESS_BYTE_COUNT	733676
+SHUFFLE	COPY_MAP_DATA	77225000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4996472
+SHUFFLE	COMPRESS_BYTE_COUNT	732725
+SHUFFLE	COPY_MAP_DATA	55735000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5032070
+SHUFFLE	COMPRESS_BYTE_COUNT	737664
+SHUFFLE	COPY_MAP_DATA	139035000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5065526
+SHUFFLE	COMPRESS_BYTE_COUNT	742860
+SHUFFLE	COPY_MAP_DATA	81350000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5032274
+SHUFFLE	COMPRESS_BYTE_COUNT	738261
+SHUFFLE	COPY_MAP_DATA	65105000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5070320
+SHUFFLE	COMPRESS_BYTE_COUNT	743820
+SHUFFLE	COPY_MAP_DATA	741872000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5009222
+SHUFFLE	COMPRESS_BYTE_COUNT	734851
+SHUFFLE	COPY_MAP_DATA	95990000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5054102
+SHUFFLE	COMPRESS_BYTE_COUNT	741329
+SHUFFLE	COPY_MAP_DATA	804439000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5022788
+SHUFFLE	COMPRESS_BYTE_COUNT	736525
+SHUFFLE	COPY_MAP_DATA	61645000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5013302
+SHUFFLE	COMPRESS_BYTE_COUNT	735592
+SHUFFLE	COPY_MAP_DATA	338601000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5052980
+SHUFFLE	COMPRESS_BYTE_COUNT	741008
+SHUFFLE	COPY_MAP_DATA	262356000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5037068
+SHUFFLE	COMPRESS_BYTE_COUNT	738887
+SHUFFLE	COPY_MAP_DATA	1039881000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5023706
+SHUFFLE	COMPRESS_BYTE_COUNT	737051
+SHUFFLE	COPY_MAP_DATA	174696000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5070218
+SHUFFLE	COMPRESS_BYTE_COUNT	743502
+SHUFFLE	COPY_MAP_DATA	101668000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5049716
+SHUFFLE	COMPRESS_BYTE_COUNT	740483
+SHUFFLE	COPY_MAP_DATA	963658000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5040842
+SHUFFLE	COMPRESS_BYTE_COUNT	739188
+SHUFFLE	COPY_MAP_DATA	85375000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5023196
+SHUFFLE	COMPRESS_BYTE_COUNT	736961
+SHUFFLE	COPY_MAP_DATA	188585000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5036048
+SHUFFLE	COMPRESS_BYTE_COUNT	738622
+SHUFFLE	COPY_MAP_DATA	52985000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5013812
+SHUFFLE	COMPRESS_BYTE_COUNT	735937
+SHUFFLE	COPY_MAP_DATA	70757000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5045228
+SHUFFLE	COMPRESS_BYTE_COUNT	740171
+SHUFFLE	COPY_MAP_DATA	95315000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5017892
+SHUFFLE	COMPRESS_BYTE_COUNT	735564
+SHUFFLE	COPY_MAP_DATA	103077000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5044514
+SHUFFLE	COMPRESS_BYTE_COUNT	739585
+SHUFFLE	COPY_MAP_DATA	204809000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5035640
+SHUFFLE	COMPRESS_BYTE_COUNT	738769
+SHUFFLE	COPY_MAP_DATA	50435000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5032580
+SHUFFLE	COMPRESS_BYTE_COUNT	738522
+SHUFFLE	COPY_MAP_DATA	474708000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5039822
+SHUFFLE	COMPRESS_BYTE_COUNT	739103
+SHUFFLE	COPY_MAP_DATA	1036309000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5046248
+SHUFFLE	COMPRESS_BYTE_COUNT	739735
+SHUFFLE	COPY_MAP_DATA	323855000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5014730
+SHUFFLE	COMPRESS_BYTE_COUNT	735378
+SHUFFLE	COPY_MAP_DATA	616028000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5006366
+SHUFFLE	COMPRESS_BYTE_COUNT	734319
+SHUFFLE	COPY_MAP_DATA	419830000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5086028
+SHUFFLE	COMPRESS_BYTE_COUNT	745540
+SHUFFLE	COPY_MAP_DATA	860247000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5035436
+SHUFFLE	COMPRESS_BYTE_COUNT	738734
+SHUFFLE	COPY_MAP_DATA	46616000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5025542
+SHUFFLE	COMPRESS_BYTE_COUNT	737246
+SHUFFLE	COPY_MAP_DATA	1593295000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5034416
+SHUFFLE	COMPRESS_BYTE_COUNT	738550
+SHUFFLE	COPY_MAP_DATA	49194000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4991882
+SHUFFLE	COMPRESS_BYTE_COUNT	732529
+SHUFFLE	COPY_MAP_DATA	141382000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5049716
+SHUFFLE	COMPRESS_BYTE_COUNT	740926
+SHUFFLE	COPY_MAP_DATA	65754000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5071850
+SHUFFLE	COMPRESS_BYTE_COUNT	743980
+SHUFFLE	COPY_MAP_DATA	315384000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5064812
+SHUFFLE	COMPRESS_BYTE_COUNT	742688
+SHUFFLE	COPY_MAP_DATA	48488000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5041250
+SHUFFLE	COMPRESS_BYTE_COUNT	739357
+SHUFFLE	COPY_MAP_DATA	49458000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5015546
+SHUFFLE	COMPRESS_BYTE_COUNT	735361
+SHUFFLE	COPY_MAP_DATA	53432000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4968320
+SHUFFLE	COMPRESS_BYTE_COUNT	721675
+SHUFFLE	COPY_MAP_DATA	43669000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5007182
+SHUFFLE	COMPRESS_BYTE_COUNT	734629
+SHUFFLE	COPY_MAP_DATA	45692000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5008304
+SHUFFLE	COMPRESS_BYTE_COUNT	734450
+SHUFFLE	COPY_MAP_DATA	78698000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5011976
+SHUFFLE	COMPRESS_BYTE_COUNT	735437
+SHUFFLE	COPY_MAP_DATA	65899000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5012588
+SHUFFLE	COMPRESS_BYTE_COUNT	735148
+SHUFFLE	COPY_MAP_DATA	123467000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5019422
+SHUFFLE	COMPRESS_BYTE_COUNT	735993
+SHUFFLE	COPY_MAP_DATA	105922000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5017892
+SHUFFLE	COMPRESS_BYTE_COUNT	736413
+SHUFFLE	COPY_MAP_DATA	51756000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5019932
+SHUFFLE	COMPRESS_BYTE_COUNT	736233
+SHUFFLE	COPY_MAP_DATA	734355000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4994534
+SHUFFLE	COMPRESS_BYTE_COUNT	732472
+SHUFFLE	COPY_MAP_DATA	161690000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1184018
+SHUFFLE	COMPRESS_BYTE_COUNT	171780
+SHUFFLE	COPY_MAP_DATA	165384000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5054612
+SHUFFLE	COMPRESS_BYTE_COUNT	740742
+SHUFFLE	COPY_MAP_DATA	45491000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5014628
+SHUFFLE	COMPRESS_BYTE_COUNT	735172
+SHUFFLE	COPY_MAP_DATA	104358000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1174328
+SHUFFLE	COMPRESS_BYTE_COUNT	170389
+SHUFFLE	COPY_MAP_DATA	18021000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5044922
+SHUFFLE	COMPRESS_BYTE_COUNT	740030
+SHUFFLE	COPY_MAP_DATA	282612000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4991474
+SHUFFLE	COMPRESS_BYTE_COUNT	732338
+SHUFFLE	COPY_MAP_DATA	50208000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1172084
+SHUFFLE	COMPRESS_BYTE_COUNT	170168
+SHUFFLE	COPY_MAP_DATA	26351000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5015240
+SHUFFLE	COMPRESS_BYTE_COUNT	735659
+SHUFFLE	COPY_MAP_DATA	64981000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5025032
+SHUFFLE	COMPRESS_BYTE_COUNT	737082
+SHUFFLE	COPY_MAP_DATA	51268000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5032478
+SHUFFLE	COMPRESS_BYTE_COUNT	738268
+SHUFFLE	COPY_MAP_DATA	105734000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5031662
+SHUFFLE	COMPRESS_BYTE_COUNT	738114
+SHUFFLE	COPY_MAP_DATA	46653000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5020136
+SHUFFLE	COMPRESS_BYTE_COUNT	736321
+SHUFFLE	COPY_MAP_DATA	50011000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4994636
+SHUFFLE	COMPRESS_BYTE_COUNT	732648
+SHUFFLE	COPY_MAP_DATA	65847000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4996982
+SHUFFLE	COMPRESS_BYTE_COUNT	733448
+SHUFFLE	COPY_MAP_DATA	45911000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5053796
+SHUFFLE	COMPRESS_BYTE_COUNT	741228
+SHUFFLE	COPY_MAP_DATA	254274000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1169840
+SHUFFLE	COMPRESS_BYTE_COUNT	169877
+SHUFFLE	COPY_MAP_DATA	13624000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5068280
+SHUFFLE	COMPRESS_BYTE_COUNT	743477
+SHUFFLE	COPY_MAP_DATA	50028000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1180754
+SHUFFLE	COMPRESS_BYTE_COUNT	171370
+SHUFFLE	COPY_MAP_DATA	15264000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5032478
+SHUFFLE	COMPRESS_BYTE_COUNT	737765
+SHUFFLE	COPY_MAP_DATA	53668000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5064098
+SHUFFLE	COMPRESS_BYTE_COUNT	742296
+SHUFFLE	COPY_MAP_DATA	47534000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5031356
+SHUFFLE	COMPRESS_BYTE_COUNT	738048
+SHUFFLE	COPY_MAP_DATA	46912000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5055326
+SHUFFLE	COMPRESS_BYTE_COUNT	741592
+SHUFFLE	COPY_MAP_DATA	51439000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4992290
+SHUFFLE	COMPRESS_BYTE_COUNT	732022
+SHUFFLE	COPY_MAP_DATA	2758989000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5054918
+SHUFFLE	COMPRESS_BYTE_COUNT	741092
+SHUFFLE	COPY_MAP_DATA	618144000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1184018
+SHUFFLE	COMPRESS_BYTE_COUNT	171811
+SHUFFLE	COPY_MAP_DATA	71248000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5065322
+SHUFFLE	COMPRESS_BYTE_COUNT	742680
+SHUFFLE	COPY_MAP_DATA	6314922000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5006672
+SHUFFLE	COMPRESS_BYTE_COUNT	734643
+SHUFFLE	COPY_MAP_DATA	633451000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5003204
+SHUFFLE	COMPRESS_BYTE_COUNT	733888
+SHUFFLE	COPY_MAP_DATA	45034000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5023196
+SHUFFLE	COMPRESS_BYTE_COUNT	736751
+SHUFFLE	COPY_MAP_DATA	8475471000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1175654
+SHUFFLE	COMPRESS_BYTE_COUNT	170549
+SHUFFLE	COPY_MAP_DATA	1033629000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1215434
+SHUFFLE	COMPRESS_BYTE_COUNT	176355
+SHUFFLE	COPY_MAP_DATA	12894000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5059406
+SHUFFLE	COMPRESS_BYTE_COUNT	742250
+SHUFFLE	COPY_MAP_DATA	117713000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5001776
+SHUFFLE	COMPRESS_BYTE_COUNT	733793
+SHUFFLE	COPY_MAP_DATA	227591000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5011670
+SHUFFLE	COMPRESS_BYTE_COUNT	735270
+SHUFFLE	COPY_MAP_DATA	56540000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5017790
+SHUFFLE	COMPRESS_BYTE_COUNT	736079
+SHUFFLE	COPY_MAP_DATA	155137000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1169330
+SHUFFLE	COMPRESS_BYTE_COUNT	169720
+SHUFFLE	COPY_MAP_DATA	2687026000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5010344
+SHUFFLE	COMPRESS_BYTE_COUNT	735176
+SHUFFLE	COPY_MAP_DATA	7338022000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5030540
+SHUFFLE	COMPRESS_BYTE_COUNT	738169
+SHUFFLE	COPY_MAP_DATA	48504000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5037068
+SHUFFLE	COMPRESS_BYTE_COUNT	738559
+SHUFFLE	COPY_MAP_DATA	127136000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5060528
+SHUFFLE	COMPRESS_BYTE_COUNT	742056
+SHUFFLE	COPY_MAP_DATA	6628779000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1195544
+SHUFFLE	COMPRESS_BYTE_COUNT	173428
+SHUFFLE	COPY_MAP_DATA	101910000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5037068
+SHUFFLE	COMPRESS_BYTE_COUNT	738483
+SHUFFLE	COPY_MAP_DATA	66406000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4994942
+SHUFFLE	COMPRESS_BYTE_COUNT	732792
+SHUFFLE	COPY_MAP_DATA	65623000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1190240
+SHUFFLE	COMPRESS_BYTE_COUNT	172804
+SHUFFLE	COPY_MAP_DATA	18093000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5052266
+SHUFFLE	COMPRESS_BYTE_COUNT	740797
+SHUFFLE	COPY_MAP_DATA	45888000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4998614
+SHUFFLE	COMPRESS_BYTE_COUNT	733219
+SHUFFLE	COPY_MAP_DATA	53259000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1188812
+SHUFFLE	COMPRESS_BYTE_COUNT	172492
+SHUFFLE	COPY_MAP_DATA	42946000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5015036
+SHUFFLE	COMPRESS_BYTE_COUNT	735873
+SHUFFLE	COPY_MAP_DATA	457079000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1172594
+SHUFFLE	COMPRESS_BYTE_COUNT	170130
+SHUFFLE	COPY_MAP_DATA	14349000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5022074
+SHUFFLE	COMPRESS_BYTE_COUNT	736336
+SHUFFLE	COPY_MAP_DATA	56216000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1177694
+SHUFFLE	COMPRESS_BYTE_COUNT	170882
+SHUFFLE	COPY_MAP_DATA	13868000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1187792
+SHUFFLE	COMPRESS_BYTE_COUNT	172322
+SHUFFLE	COPY_MAP_DATA	14686000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1168514
+SHUFFLE	COMPRESS_BYTE_COUNT	169775
+SHUFFLE	COPY_MAP_DATA	32663000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1193606
+SHUFFLE	COMPRESS_BYTE_COUNT	173227
+SHUFFLE	COPY_MAP_DATA	250143000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5029928
+SHUFFLE	COMPRESS_BYTE_COUNT	738119
+SHUFFLE	COPY_MAP_DATA	45290000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1199522
+SHUFFLE	COMPRESS_BYTE_COUNT	174084
+SHUFFLE	COPY_MAP_DATA	12206000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1196258
+SHUFFLE	COMPRESS_BYTE_COUNT	173569
+SHUFFLE	COPY_MAP_DATA	14246000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5044310
+SHUFFLE	COMPRESS_BYTE_COUNT	740044
+SHUFFLE	COPY_MAP_DATA	48574000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1175858
+SHUFFLE	COMPRESS_BYTE_COUNT	170573
+SHUFFLE	COPY_MAP_DATA	13413000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1176572
+SHUFFLE	COMPRESS_BYTE_COUNT	170876
+SHUFFLE	COPY_MAP_DATA	43219000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1167188
+SHUFFLE	COMPRESS_BYTE_COUNT	169417
+SHUFFLE	COPY_MAP_DATA	241546000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4995758
+SHUFFLE	COMPRESS_BYTE_COUNT	732600
+SHUFFLE	COPY_MAP_DATA	84879000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5008916
+SHUFFLE	COMPRESS_BYTE_COUNT	735117
+SHUFFLE	COPY_MAP_DATA	45899000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5058692
+SHUFFLE	COMPRESS_BYTE_COUNT	742157
+SHUFFLE	COPY_MAP_DATA	328422000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5008916
+SHUFFLE	COMPRESS_BYTE_COUNT	734948
+SHUFFLE	COPY_MAP_DATA	110904000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5016362
+SHUFFLE	COMPRESS_BYTE_COUNT	735652
+SHUFFLE	COPY_MAP_DATA	45132000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1175960
+SHUFFLE	COMPRESS_BYTE_COUNT	170731
+SHUFFLE	COPY_MAP_DATA	3010951000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1170758
+SHUFFLE	COMPRESS_BYTE_COUNT	169904
+SHUFFLE	COPY_MAP_DATA	5456708000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1176062
+SHUFFLE	COMPRESS_BYTE_COUNT	170681
+SHUFFLE	COPY_MAP_DATA	18524000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5020136
+SHUFFLE	COMPRESS_BYTE_COUNT	736410
+SHUFFLE	COPY_MAP_DATA	76235000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5020034
+SHUFFLE	COMPRESS_BYTE_COUNT	736130
+SHUFFLE	COPY_MAP_DATA	82675000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1177898
+SHUFFLE	COMPRESS_BYTE_COUNT	170831
+SHUFFLE	COPY_MAP_DATA	24168000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1191260
+SHUFFLE	COMPRESS_BYTE_COUNT	172931
+SHUFFLE	COPY_MAP_DATA	39891000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1168922
+SHUFFLE	COMPRESS_BYTE_COUNT	169621
+SHUFFLE	COPY_MAP_DATA	13712000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1196768
+SHUFFLE	COMPRESS_BYTE_COUNT	173755
+SHUFFLE	COPY_MAP_DATA	5272884000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1176164
+SHUFFLE	COMPRESS_BYTE_COUNT	170534
+SHUFFLE	COPY_MAP_DATA	1004049000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1170962
+SHUFFLE	COMPRESS_BYTE_COUNT	169982
+SHUFFLE	COPY_MAP_DATA	12865000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1187282
+SHUFFLE	COMPRESS_BYTE_COUNT	172234
+SHUFFLE	COPY_MAP_DATA	48923000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1175756
+SHUFFLE	COMPRESS_BYTE_COUNT	170607
+SHUFFLE	COPY_MAP_DATA	12488000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5007284
+SHUFFLE	COMPRESS_BYTE_COUNT	734074
+SHUFFLE	COPY_MAP_DATA	1107707000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1189220
+SHUFFLE	COMPRESS_BYTE_COUNT	172741
+SHUFFLE	COPY_MAP_DATA	188488000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1186466
+SHUFFLE	COMPRESS_BYTE_COUNT	172082
+SHUFFLE	COPY_MAP_DATA	159159000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1194116
+SHUFFLE	COMPRESS_BYTE_COUNT	173243
+SHUFFLE	COPY_MAP_DATA	32130000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1171166
+SHUFFLE	COMPRESS_BYTE_COUNT	170085
+SHUFFLE	COPY_MAP_DATA	36027000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1189526
+SHUFFLE	COMPRESS_BYTE_COUNT	172644
+SHUFFLE	COPY_MAP_DATA	727857000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	4972502
+SHUFFLE	COMPRESS_BYTE_COUNT	729181
+SHUFFLE	COPY_MAP_DATA	226148000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5021564
+SHUFFLE	COMPRESS_BYTE_COUNT	736611
+SHUFFLE	COPY_MAP_DATA	50191000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1194116
+SHUFFLE	COMPRESS_BYTE_COUNT	173375
+SHUFFLE	COPY_MAP_DATA	36307000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1181774
+SHUFFLE	COMPRESS_BYTE_COUNT	171350
+SHUFFLE	COPY_MAP_DATA	31872000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1171472
+SHUFFLE	COMPRESS_BYTE_COUNT	170172
+SHUFFLE	COPY_MAP_DATA	92957000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1187996
+SHUFFLE	COMPRESS_BYTE_COUNT	172387
+SHUFFLE	COPY_MAP_DATA	1390012000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5031356
+SHUFFLE	COMPRESS_BYTE_COUNT	738247
+SHUFFLE	COPY_MAP_DATA	60000000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1175348
+SHUFFLE	COMPRESS_BYTE_COUNT	170505
+SHUFFLE	COPY_MAP_DATA	12814000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1177082
+SHUFFLE	COMPRESS_BYTE_COUNT	170742
+SHUFFLE	COPY_MAP_DATA	13059000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1171676
+SHUFFLE	COMPRESS_BYTE_COUNT	170035
+SHUFFLE	COPY_MAP_DATA	13201000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1191158
+SHUFFLE	COMPRESS_BYTE_COUNT	172949
+SHUFFLE	COPY_MAP_DATA	12662000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1185650
+SHUFFLE	COMPRESS_BYTE_COUNT	171817
+SHUFFLE	COPY_MAP_DATA	55154000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1179428
+SHUFFLE	COMPRESS_BYTE_COUNT	171148
+SHUFFLE	COPY_MAP_DATA	14658000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1191668
+SHUFFLE	COMPRESS_BYTE_COUNT	172902
+SHUFFLE	COPY_MAP_DATA	2611849000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1212068
+SHUFFLE	COMPRESS_BYTE_COUNT	175916
+SHUFFLE	COPY_MAP_DATA	13197000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1199114
+SHUFFLE	COMPRESS_BYTE_COUNT	174025
+SHUFFLE	COPY_MAP_DATA	13269000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5035028
+SHUFFLE	COMPRESS_BYTE_COUNT	738586
+SHUFFLE	COPY_MAP_DATA	3431924000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5019728
+SHUFFLE	COMPRESS_BYTE_COUNT	736226
+SHUFFLE	COPY_MAP_DATA	744375000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5066546
+SHUFFLE	COMPRESS_BYTE_COUNT	742342
+SHUFFLE	COPY_MAP_DATA	132978000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1178510
+SHUFFLE	COMPRESS_BYTE_COUNT	171103
+SHUFFLE	COPY_MAP_DATA	30912000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1197584
+SHUFFLE	COMPRESS_BYTE_COUNT	173833
+SHUFFLE	COPY_MAP_DATA	53549000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1186568
+SHUFFLE	COMPRESS_BYTE_COUNT	172199
+SHUFFLE	COPY_MAP_DATA	89374000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1190546
+SHUFFLE	COMPRESS_BYTE_COUNT	172713
+SHUFFLE	COPY_MAP_DATA	13909000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5047166
+SHUFFLE	COMPRESS_BYTE_COUNT	740601
+SHUFFLE	COPY_MAP_DATA	56784000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1172186
+SHUFFLE	COMPRESS_BYTE_COUNT	170152
+SHUFFLE	COPY_MAP_DATA	29243000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1201052
+SHUFFLE	COMPRESS_BYTE_COUNT	174363
+SHUFFLE	COPY_MAP_DATA	31033000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5036864
+SHUFFLE	COMPRESS_BYTE_COUNT	738618
+SHUFFLE	COPY_MAP_DATA	4997471000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1189934
+SHUFFLE	COMPRESS_BYTE_COUNT	172727
+SHUFFLE	COPY_MAP_DATA	27053000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1180652
+SHUFFLE	COMPRESS_BYTE_COUNT	171147
+SHUFFLE	COPY_MAP_DATA	17479000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1149032
+SHUFFLE	COMPRESS_BYTE_COUNT	166939
+SHUFFLE	COPY_MAP_DATA	493935000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1166780
+SHUFFLE	COMPRESS_BYTE_COUNT	169503
+SHUFFLE	COPY_MAP_DATA	51135000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1187792
+SHUFFLE	COMPRESS_BYTE_COUNT	172278
+SHUFFLE	COPY_MAP_DATA	13211000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1180550
+SHUFFLE	COMPRESS_BYTE_COUNT	171312
+SHUFFLE	COPY_MAP_DATA	692505000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	5036966
+SHUFFLE	COMPRESS_BYTE_COUNT	738851
+SHUFFLE	COPY_MAP_DATA	47262000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1176062
+SHUFFLE	COMPRESS_BYTE_COUNT	170682
+SHUFFLE	COPY_MAP_DATA	31687000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1183610
+SHUFFLE	COMPRESS_BYTE_COUNT	171633
+SHUFFLE	COPY_MAP_DATA	12563000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1176164
+SHUFFLE	COMPRESS_BYTE_COUNT	170750
+SHUFFLE	COPY_MAP_DATA	13309000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1189424
+SHUFFLE	COMPRESS_BYTE_COUNT	172580
+SHUFFLE	COPY_MAP_DATA	12814000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1179632
+SHUFFLE	COMPRESS_BYTE_COUNT	171236
+SHUFFLE	COPY_MAP_DATA	12526000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1175246
+SHUFFLE	COMPRESS_BYTE_COUNT	170621
+SHUFFLE	COPY_MAP_DATA	12071000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1180856
+SHUFFLE	COMPRESS_BYTE_COUNT	171382
+SHUFFLE	COPY_MAP_DATA	16641000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1160660
+SHUFFLE	COMPRESS_BYTE_COUNT	168475
+SHUFFLE	COPY_MAP_DATA	12722000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1183814
+SHUFFLE	COMPRESS_BYTE_COUNT	171636
+SHUFFLE	COPY_MAP_DATA	12612000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1185548
+SHUFFLE	COMPRESS_BYTE_COUNT	171922
+SHUFFLE	COPY_MAP_DATA	12072000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1196870
+SHUFFLE	COMPRESS_BYTE_COUNT	173754
+SHUFFLE	COPY_MAP_DATA	11909000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1174736
+SHUFFLE	COMPRESS_BYTE_COUNT	170522
+SHUFFLE	COPY_MAP_DATA	12673000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1189220
+SHUFFLE	COMPRESS_BYTE_COUNT	172460
+SHUFFLE	COPY_MAP_DATA	11946000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1195034
+SHUFFLE	COMPRESS_BYTE_COUNT	173292
+SHUFFLE	COPY_MAP_DATA	21911000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1183712
+SHUFFLE	COMPRESS_BYTE_COUNT	171879
+SHUFFLE	COPY_MAP_DATA	23314000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1170248
+SHUFFLE	COMPRESS_BYTE_COUNT	169887
+SHUFFLE	COPY_MAP_DATA	12231000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1179632
+SHUFFLE	COMPRESS_BYTE_COUNT	171145
+SHUFFLE	COPY_MAP_DATA	27327000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1189118
+SHUFFLE	COMPRESS_BYTE_COUNT	172484
+SHUFFLE	COPY_MAP_DATA	12655000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1161782
+SHUFFLE	COMPRESS_BYTE_COUNT	168785
+SHUFFLE	COPY_MAP_DATA	13451000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1181774
+SHUFFLE	COMPRESS_BYTE_COUNT	171420
+SHUFFLE	COPY_MAP_DATA	12836000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1182284
+SHUFFLE	COMPRESS_BYTE_COUNT	171595
+SHUFFLE	COPY_MAP_DATA	19904000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1194116
+SHUFFLE	COMPRESS_BYTE_COUNT	173123
+SHUFFLE	COPY_MAP_DATA	13862000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1164128
+SHUFFLE	COMPRESS_BYTE_COUNT	169081
+SHUFFLE	COPY_MAP_DATA	12485000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1173308
+SHUFFLE	COMPRESS_BYTE_COUNT	170167
+SHUFFLE	COPY_MAP_DATA	12261000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1183712
+SHUFFLE	COMPRESS_BYTE_COUNT	171718
+SHUFFLE	COPY_MAP_DATA	11607000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1185242
+SHUFFLE	COMPRESS_BYTE_COUNT	171924
+SHUFFLE	COPY_MAP_DATA	60398000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1183100
+SHUFFLE	COMPRESS_BYTE_COUNT	171736
+SHUFFLE	COPY_MAP_DATA	13060000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1159130
+SHUFFLE	COMPRESS_BYTE_COUNT	168276
+SHUFFLE	COPY_MAP_DATA	12212000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1171982
+SHUFFLE	COMPRESS_BYTE_COUNT	170114
+SHUFFLE	COPY_MAP_DATA	21645000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1189220
+SHUFFLE	COMPRESS_BYTE_COUNT	172727
+SHUFFLE	COPY_MAP_DATA	12817000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1169024
+SHUFFLE	COMPRESS_BYTE_COUNT	169631
+SHUFFLE	COPY_MAP_DATA	46673000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1187282
+SHUFFLE	COMPRESS_BYTE_COUNT	172283
+SHUFFLE	COPY_MAP_DATA	12507000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1167290
+SHUFFLE	COMPRESS_BYTE_COUNT	169335
+SHUFFLE	COPY_MAP_DATA	51529000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1188812
+SHUFFLE	COMPRESS_BYTE_COUNT	172595
+SHUFFLE	COPY_MAP_DATA	30159000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1181468
+SHUFFLE	COMPRESS_BYTE_COUNT	171392
+SHUFFLE	COPY_MAP_DATA	70506000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1172084
+SHUFFLE	COMPRESS_BYTE_COUNT	170107
+SHUFFLE	COPY_MAP_DATA	13343000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1170656
+SHUFFLE	COMPRESS_BYTE_COUNT	169825
+SHUFFLE	COPY_MAP_DATA	447968000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	286479195990
+MERGE	READ_WRITE	278388557990
+MERGE	READ_WRITE_COUNT	8
+MERGE	COMBINE	0
+MERGE	WRITE	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	8076747951
+SORT	READ_WRITE	7851271951
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	146401192
+REDUCE	SETUP	401000
+REDUCE	SETUP_MEM	146610920
+REDUCE	CLEANUP	45000
+REDUCE	CLEANUP_MEM	141267552
+REDUCE	TOTAL_RUN	198729225242
+REDUCE	READ	21907313000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	96284026444
+REDUCE	WRITE	37643541000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	110169810
+REDUCE	VALUE_BYTE_COUNT	969494328
+REDUCE	REDUCE_MEM	141269600
+REDUCE	WRITE	5303000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	745418999425
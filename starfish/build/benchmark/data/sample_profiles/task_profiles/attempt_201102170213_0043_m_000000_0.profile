@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00000	0
+MAP	STARTUP_MEM	216139232
+MAP	SETUP	504000
+MAP	SETUP_MEM	216139232
+MAP	CLEANUP	63000
+MAP	CLEANUP_MEM	219125320
+MAP	TOTAL_RUN	28901676000
+MAP	READ	11726838000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	57354
+MAP	VALUE_BYTE_COUNT	268414123
+MAP	MAP	17105087000
+MAP	WRITE	8469862000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1356857000
+MAP	SERIALIZE_OUTPUT	3492837000
+MAP	MAP_MEM	219125320
+SPILL	SORT_AND_SPILL	43587809000
+SPILL	QUICK_SORT	30149178000
+SPILL	SORT_COUNT	1590553
+SPILL	COMBINE	0
+SPILL	WRITE	13438631000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	45265902
+SPILL	COMPRESS_BYTE_COUNT	12609528
+MERGE	TOTAL_MERGE	1658000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	73090195000
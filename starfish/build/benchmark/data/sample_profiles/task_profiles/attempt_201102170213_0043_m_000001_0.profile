@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00002	0
+MAP	STARTUP_MEM	216122576
+MAP	SETUP	517000
+MAP	SETUP_MEM	216122576
+MAP	CLEANUP	101000
+MAP	CLEANUP_MEM	245572928
+MAP	TOTAL_RUN	28998270000
+MAP	READ	10678548000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	107675
+MAP	VALUE_BYTE_COUNT	268376056
+MAP	MAP	18219519000
+MAP	WRITE	8673228000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1557030000
+MAP	SERIALIZE_OUTPUT	3513293000
+MAP	MAP_MEM	245572928
+SPILL	SORT_AND_SPILL	45310296000
+SPILL	QUICK_SORT	31581054000
+SPILL	SORT_COUNT	1616639
+SPILL	COMBINE	0
+SPILL	WRITE	13729242000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	48001766
+SPILL	COMPRESS_BYTE_COUNT	13077993
+MERGE	TOTAL_MERGE	1588000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	74849830000
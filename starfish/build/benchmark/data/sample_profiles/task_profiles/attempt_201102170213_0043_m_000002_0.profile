@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00001	0
+MAP	STARTUP_MEM	216333208
+MAP	SETUP	453000
+MAP	SETUP_MEM	216333208
+MAP	CLEANUP	89000
+MAP	CLEANUP_MEM	213190864
+MAP	TOTAL_RUN	28364404000
+MAP	READ	10357163000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	82080
+MAP	VALUE_BYTE_COUNT	268365381
+MAP	MAP	17932655000
+MAP	WRITE	8768076000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1513195000
+MAP	SERIALIZE_OUTPUT	3571334000
+MAP	MAP_MEM	213190864
+SPILL	SORT_AND_SPILL	44533139000
+SPILL	QUICK_SORT	30742273000
+SPILL	SORT_COUNT	1727211
+SPILL	COMBINE	0
+SPILL	WRITE	13790866000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	49609832
+SPILL	COMPRESS_BYTE_COUNT	12741694
+MERGE	TOTAL_MERGE	1615000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	73414152000
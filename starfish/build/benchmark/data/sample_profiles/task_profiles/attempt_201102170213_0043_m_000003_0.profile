@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00005	0
+MAP	STARTUP_MEM	214411072
+MAP	SETUP	454000
+MAP	SETUP_MEM	214411072
+MAP	CLEANUP	93000
+MAP	CLEANUP_MEM	246609216
+MAP	TOTAL_RUN	28924690000
+MAP	READ	11133794000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	172350
+MAP	VALUE_BYTE_COUNT	268344071
+MAP	MAP	17675695000
+MAP	WRITE	9088005000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1526039000
+MAP	SERIALIZE_OUTPUT	3654709000
+MAP	MAP_MEM	246609216
+SPILL	SORT_AND_SPILL	49066739000
+SPILL	QUICK_SORT	34087661000
+SPILL	SORT_COUNT	1789374
+SPILL	COMBINE	0
+SPILL	WRITE	14979078000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	54812944
+SPILL	COMPRESS_BYTE_COUNT	14659484
+MERGE	TOTAL_MERGE	1417000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	78941477000
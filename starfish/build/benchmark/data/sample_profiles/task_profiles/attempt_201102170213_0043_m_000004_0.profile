@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00006	0
+MAP	STARTUP_MEM	216337960
+MAP	SETUP	479000
+MAP	SETUP_MEM	216337960
+MAP	CLEANUP	112000
+MAP	CLEANUP_MEM	227963048
+MAP	TOTAL_RUN	30492225000
+MAP	READ	9915092000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	206346
+MAP	VALUE_BYTE_COUNT	268336444
+MAP	MAP	20407338000
+MAP	WRITE	8873078000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1428888000
+MAP	SERIALIZE_OUTPUT	3600183000
+MAP	MAP_MEM	227963048
+SPILL	SORT_AND_SPILL	57970948778
+SPILL	QUICK_SORT	41233301000
+SPILL	SORT_COUNT	1738287
+SPILL	COMBINE	0
+SPILL	WRITE	16737647778
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	53560518
+SPILL	COMPRESS_BYTE_COUNT	14754111
+MERGE	TOTAL_MERGE	1566000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	89020111778
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00008	0
+MAP	STARTUP_MEM	214457856
+MAP	SETUP	544000
+MAP	SETUP_MEM	214457856
+MAP	CLEANUP	97000
+MAP	CLEANUP_MEM	237693760
+MAP	TOTAL_RUN	34467362579
+MAP	READ	11850708000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	262128
+MAP	VALUE_BYTE_COUNT	268313339
+MAP	MAP	22405016579
+MAP	WRITE	11407085579
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	2356347000
+MAP	SERIALIZE_OUTPUT	4043872000
+MAP	MAP_MEM	237693760
+SPILL	SORT_AND_SPILL	58529142666
+SPILL	QUICK_SORT	41158036000
+SPILL	SORT_COUNT	1742156
+SPILL	COMBINE	0
+SPILL	WRITE	17371106666
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	54108468
+SPILL	COMPRESS_BYTE_COUNT	14978806
+MERGE	TOTAL_MERGE	1847000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	94219510245
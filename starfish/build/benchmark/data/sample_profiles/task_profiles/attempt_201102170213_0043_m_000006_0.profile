@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00007	0
+MAP	STARTUP_MEM	216348800
+MAP	SETUP	471000
+MAP	SETUP_MEM	216348800
+MAP	CLEANUP	93000
+MAP	CLEANUP_MEM	236322976
+MAP	TOTAL_RUN	29018958000
+MAP	READ	11477054000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	229014
+MAP	VALUE_BYTE_COUNT	268315235
+MAP	MAP	17398281000
+MAP	WRITE	8643103000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1400848000
+MAP	SERIALIZE_OUTPUT	3652944000
+MAP	MAP_MEM	236322976
+SPILL	SORT_AND_SPILL	44373016000
+SPILL	QUICK_SORT	30142164000
+SPILL	SORT_COUNT	1666418
+SPILL	COMBINE	0
+SPILL	WRITE	14230852000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	51759440
+SPILL	COMPRESS_BYTE_COUNT	14248332
+MERGE	TOTAL_MERGE	1448000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	74025920000
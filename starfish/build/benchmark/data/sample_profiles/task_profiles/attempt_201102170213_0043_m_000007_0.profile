@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00009	0
+MAP	STARTUP_MEM	214423112
+MAP	SETUP	453000
+MAP	SETUP_MEM	214423112
+MAP	CLEANUP	108000
+MAP	CLEANUP_MEM	238792024
+MAP	TOTAL_RUN	34484003579
+MAP	READ	11968551000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	267822
+MAP	VALUE_BYTE_COUNT	268333757
+MAP	MAP	22239521579
+MAP	WRITE	11151021579
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1931154000
+MAP	SERIALIZE_OUTPUT	4073288579
+MAP	MAP_MEM	239354184
+SPILL	SORT_AND_SPILL	59672204666
+SPILL	QUICK_SORT	42312021666
+SPILL	SORT_COUNT	1747709
+SPILL	COMBINE	0
+SPILL	WRITE	17360183000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	55402898
+SPILL	COMPRESS_BYTE_COUNT	14997645
+MERGE	TOTAL_MERGE	1693000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	95350816245
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00010	0
+MAP	STARTUP_MEM	214401232
+MAP	SETUP	478000
+MAP	SETUP_MEM	214401232
+MAP	CLEANUP	90000
+MAP	CLEANUP_MEM	213316688
+MAP	TOTAL_RUN	29983956000
+MAP	READ	11182446000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	331236
+MAP	VALUE_BYTE_COUNT	268228165
+MAP	MAP	18592441000
+MAP	WRITE	9316833000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1560336000
+MAP	SERIALIZE_OUTPUT	3736492000
+MAP	MAP_MEM	213316688
+SPILL	SORT_AND_SPILL	50316548000
+SPILL	QUICK_SORT	35151614000
+SPILL	SORT_COUNT	1763603
+SPILL	COMBINE	0
+SPILL	WRITE	15164934000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	54935778
+SPILL	COMPRESS_BYTE_COUNT	15465181
+MERGE	TOTAL_MERGE	1402000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	80778302000
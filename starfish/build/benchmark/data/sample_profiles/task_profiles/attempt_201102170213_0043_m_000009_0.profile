@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00019	0
+MAP	STARTUP_MEM	215470368
+MAP	SETUP	512000
+MAP	SETUP_MEM	215470368
+MAP	CLEANUP	92000
+MAP	CLEANUP_MEM	234607808
+MAP	TOTAL_RUN	28668872000
+MAP	READ	10774619000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	475086
+MAP	VALUE_BYTE_COUNT	268193650
+MAP	MAP	17608567000
+MAP	WRITE	8558355000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1530047000
+MAP	SERIALIZE_OUTPUT	3471000000
+MAP	MAP_MEM	235169968
+SPILL	SORT_AND_SPILL	44965422000
+SPILL	QUICK_SORT	30726381000
+SPILL	SORT_COUNT	1639731
+SPILL	COMBINE	0
+SPILL	WRITE	14239041000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	53361985
+SPILL	COMPRESS_BYTE_COUNT	15317521
+MERGE	TOTAL_MERGE	1628000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	74105611000
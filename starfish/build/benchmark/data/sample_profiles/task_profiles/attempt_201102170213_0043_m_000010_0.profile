@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00011	0
+MAP	STARTUP_MEM	216391232
+MAP	SETUP	521000
+MAP	SETUP_MEM	216391232
+MAP	CLEANUP	102000
+MAP	CLEANUP_MEM	235309184
+MAP	TOTAL_RUN	31525527000
+MAP	READ	11846820000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	323364
+MAP	VALUE_BYTE_COUNT	268282703
+MAP	MAP	19472066000
+MAP	WRITE	9191522000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1581659000
+MAP	SERIALIZE_OUTPUT	3840118000
+MAP	MAP_MEM	235309184
+SPILL	SORT_AND_SPILL	59972998778
+SPILL	QUICK_SORT	43080151000
+SPILL	SORT_COUNT	1821925
+SPILL	COMBINE	0
+SPILL	WRITE	16892847778
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	57481542
+SPILL	COMPRESS_BYTE_COUNT	15661258
+MERGE	TOTAL_MERGE	1456000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	92111950778
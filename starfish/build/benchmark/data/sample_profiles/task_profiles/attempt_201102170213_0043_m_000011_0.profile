@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00012	0
+MAP	STARTUP_MEM	214445016
+MAP	SETUP	469000
+MAP	SETUP_MEM	214445016
+MAP	CLEANUP	99000
+MAP	CLEANUP_MEM	220009984
+MAP	TOTAL_RUN	33045439000
+MAP	READ	11612112000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	382824
+MAP	VALUE_BYTE_COUNT	268251389
+MAP	MAP	21146057000
+MAP	WRITE	10811622000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1935624000
+MAP	SERIALIZE_OUTPUT	4008989000
+MAP	MAP_MEM	220572144
+SPILL	SORT_AND_SPILL	53357340212
+SPILL	QUICK_SORT	38508453212
+SPILL	SORT_COUNT	1691790
+SPILL	COMBINE	0
+SPILL	WRITE	14848887000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	53016256
+SPILL	COMPRESS_BYTE_COUNT	14973800
+MERGE	TOTAL_MERGE	1676000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	87016392212
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00018	0
+MAP	STARTUP_MEM	214396104
+MAP	SETUP	445000
+MAP	SETUP_MEM	214396104
+MAP	CLEANUP	96000
+MAP	CLEANUP_MEM	222195832
+MAP	TOTAL_RUN	29167475000
+MAP	READ	11457694000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	439050
+MAP	VALUE_BYTE_COUNT	268223908
+MAP	MAP	17446977000
+MAP	WRITE	8440548000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1457763000
+MAP	SERIALIZE_OUTPUT	3458161000
+MAP	MAP_MEM	222195832
+SPILL	SORT_AND_SPILL	48119855000
+SPILL	QUICK_SORT	33737532000
+SPILL	SORT_COUNT	1633838
+SPILL	COMBINE	0
+SPILL	WRITE	14382323000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	53048945
+SPILL	COMPRESS_BYTE_COUNT	15139765
+MERGE	TOTAL_MERGE	1484000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	77915521000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00017	0
+MAP	STARTUP_MEM	214667656
+MAP	SETUP	430000
+MAP	SETUP_MEM	214667656
+MAP	CLEANUP	98000
+MAP	CLEANUP_MEM	219461840
+MAP	TOTAL_RUN	29355881000
+MAP	READ	10606004000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	498762
+MAP	VALUE_BYTE_COUNT	268183172
+MAP	MAP	18445233000
+MAP	WRITE	8947041000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1678713000
+MAP	SERIALIZE_OUTPUT	3569137000
+MAP	MAP_MEM	220317480
+SPILL	SORT_AND_SPILL	47831479000
+SPILL	QUICK_SORT	33392074000
+SPILL	SORT_COUNT	1673109
+SPILL	COMBINE	0
+SPILL	WRITE	14439405000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	54364361
+SPILL	COMPRESS_BYTE_COUNT	15393991
+MERGE	TOTAL_MERGE	1414000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	77741510000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00014	0
+MAP	STARTUP_MEM	215292088
+MAP	SETUP	488000
+MAP	SETUP_MEM	215292088
+MAP	CLEANUP	99000
+MAP	CLEANUP_MEM	237044208
+MAP	TOTAL_RUN	33155106000
+MAP	READ	12112976000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	403494
+MAP	VALUE_BYTE_COUNT	268253507
+MAP	MAP	20735392000
+MAP	WRITE	10784691000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1882955000
+MAP	SERIALIZE_OUTPUT	3894241000
+MAP	MAP_MEM	237044208
+SPILL	SORT_AND_SPILL	51533818736
+SPILL	QUICK_SORT	36786442736
+SPILL	SORT_COUNT	1641650
+SPILL	COMBINE	0
+SPILL	WRITE	14747376000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	51796448
+SPILL	COMPRESS_BYTE_COUNT	14919929
+MERGE	TOTAL_MERGE	1727000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	85366374736
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00021	0
+MAP	STARTUP_MEM	216102248
+MAP	SETUP	576000
+MAP	SETUP_MEM	216102248
+MAP	CLEANUP	119000
+MAP	CLEANUP_MEM	239040728
+MAP	TOTAL_RUN	29339556000
+MAP	READ	10911281000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	596442
+MAP	VALUE_BYTE_COUNT	268177690
+MAP	MAP	18127294000
+MAP	WRITE	8812564000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1681974000
+MAP	SERIALIZE_OUTPUT	3645142000
+MAP	MAP_MEM	239040728
+SPILL	SORT_AND_SPILL	48241673000
+SPILL	QUICK_SORT	33850440000
+SPILL	SORT_COUNT	1646918
+SPILL	COMBINE	0
+SPILL	WRITE	14391233000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	54064520
+SPILL	COMPRESS_BYTE_COUNT	15567281
+MERGE	TOTAL_MERGE	1415000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	78065234000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00016	0
+MAP	STARTUP_MEM	215529576
+MAP	SETUP	489000
+MAP	SETUP_MEM	215529576
+MAP	CLEANUP	98000
+MAP	CLEANUP_MEM	241472648
+MAP	TOTAL_RUN	29772060000
+MAP	READ	11029792000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	418062
+MAP	VALUE_BYTE_COUNT	268198809
+MAP	MAP	18487435000
+MAP	WRITE	9093081000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1517858000
+MAP	SERIALIZE_OUTPUT	3709092000
+MAP	MAP_MEM	242034808
+SPILL	SORT_AND_SPILL	49463837000
+SPILL	QUICK_SORT	34049077000
+SPILL	SORT_COUNT	1735733
+SPILL	COMBINE	0
+SPILL	WRITE	15414760000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	56406917
+SPILL	COMPRESS_BYTE_COUNT	15200845
+MERGE	TOTAL_MERGE	1631000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	79733790000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00023	0
+MAP	STARTUP_MEM	215259400
+MAP	SETUP	528000
+MAP	SETUP_MEM	215259400
+MAP	CLEANUP	112000
+MAP	CLEANUP_MEM	219782632
+MAP	TOTAL_RUN	33622125000
+MAP	READ	11567568000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	590807
+MAP	VALUE_BYTE_COUNT	268221738
+MAP	MAP	21612446000
+MAP	WRITE	10876633000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	2015135000
+MAP	SERIALIZE_OUTPUT	3958601000
+MAP	MAP_MEM	219782632
+SPILL	SORT_AND_SPILL	51693858212
+SPILL	QUICK_SORT	37287387212
+SPILL	SORT_COUNT	1600591
+SPILL	COMBINE	0
+SPILL	WRITE	14406471000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	52022646
+SPILL	COMPRESS_BYTE_COUNT	15220817
+MERGE	TOTAL_MERGE	1664000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	85903354212
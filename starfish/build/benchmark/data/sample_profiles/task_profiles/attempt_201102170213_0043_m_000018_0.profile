@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00015	0
+MAP	STARTUP_MEM	215243368
+MAP	SETUP	509000
+MAP	SETUP_MEM	215243368
+MAP	CLEANUP	111000
+MAP	CLEANUP_MEM	233106896
+MAP	TOTAL_RUN	34336844000
+MAP	READ	11521479000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	398634
+MAP	VALUE_BYTE_COUNT	268245409
+MAP	MAP	22435688000
+MAP	WRITE	11319240000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1873220000
+MAP	SERIALIZE_OUTPUT	4290021000
+MAP	MAP_MEM	233106896
+SPILL	SORT_AND_SPILL	52299692736
+SPILL	QUICK_SORT	36968961736
+SPILL	SORT_COUNT	1718595
+SPILL	COMBINE	0
+SPILL	WRITE	15330731000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	55186797
+SPILL	COMPRESS_BYTE_COUNT	14835581
+MERGE	TOTAL_MERGE	1621000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	87249527736
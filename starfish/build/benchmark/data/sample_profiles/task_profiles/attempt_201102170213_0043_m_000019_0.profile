@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00024	0
+MAP	STARTUP_MEM	215540744
+MAP	SETUP	533000
+MAP	SETUP_MEM	215540744
+MAP	CLEANUP	96000
+MAP	CLEANUP_MEM	233809144
+MAP	TOTAL_RUN	32750661000
+MAP	READ	11392386000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	626017
+MAP	VALUE_BYTE_COUNT	268128436
+MAP	MAP	21036374000
+MAP	WRITE	10379449000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1535652000
+MAP	SERIALIZE_OUTPUT	5099225000
+MAP	MAP_MEM	234371304
+SPILL	SORT_AND_SPILL	50054688000
+SPILL	QUICK_SORT	33915474000
+SPILL	SORT_COUNT	1633703
+SPILL	COMBINE	0
+SPILL	WRITE	16139214000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	53361871
+SPILL	COMPRESS_BYTE_COUNT	15383440
+MERGE	TOTAL_MERGE	1594000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	83526716000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00027	0
+MAP	STARTUP_MEM	216338768
+MAP	SETUP	473000
+MAP	SETUP_MEM	216338768
+MAP	CLEANUP	105000
+MAP	CLEANUP_MEM	216797824
+MAP	TOTAL_RUN	30227204000
+MAP	READ	12114766000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	629125
+MAP	VALUE_BYTE_COUNT	268125741
+MAP	MAP	17793158000
+MAP	WRITE	8128630000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1406541000
+MAP	SERIALIZE_OUTPUT	3403230000
+MAP	MAP_MEM	217653464
+SPILL	SORT_AND_SPILL	53273568000
+SPILL	QUICK_SORT	38985244000
+SPILL	SORT_COUNT	1604526
+SPILL	COMBINE	0
+SPILL	WRITE	14288324000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	52536852
+SPILL	COMPRESS_BYTE_COUNT	15521371
+MERGE	TOTAL_MERGE	1474000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	84099499000
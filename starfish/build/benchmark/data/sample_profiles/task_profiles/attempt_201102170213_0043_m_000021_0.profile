@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00013	0
+MAP	STARTUP_MEM	214409416
+MAP	SETUP	488000
+MAP	SETUP_MEM	214409416
+MAP	CLEANUP	99000
+MAP	CLEANUP_MEM	233212048
+MAP	TOTAL_RUN	34643422152
+MAP	READ	11958754000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	525912
+MAP	VALUE_BYTE_COUNT	268157533
+MAP	MAP	22171477152
+MAP	WRITE	11487937000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	2523521000
+MAP	SERIALIZE_OUTPUT	4117705000
+MAP	MAP_MEM	233774208
+SPILL	SORT_AND_SPILL	53800425000
+SPILL	QUICK_SORT	37329982000
+SPILL	SORT_COUNT	1633459
+SPILL	COMBINE	0
+SPILL	WRITE	16470443000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	51159605
+SPILL	COMPRESS_BYTE_COUNT	14835356
+MERGE	TOTAL_MERGE	1722000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	88953474152
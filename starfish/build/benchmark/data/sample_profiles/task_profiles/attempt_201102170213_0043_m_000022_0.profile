@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00028	0
+MAP	STARTUP_MEM	215506952
+MAP	SETUP	600000
+MAP	SETUP_MEM	215506952
+MAP	CLEANUP	104000
+MAP	CLEANUP_MEM	213312184
+MAP	TOTAL_RUN	31317520000
+MAP	READ	12316946000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	641333
+MAP	VALUE_BYTE_COUNT	268138116
+MAP	MAP	18638548000
+MAP	WRITE	8523889000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1551446000
+MAP	SERIALIZE_OUTPUT	3548174000
+MAP	MAP_MEM	213312184
+SPILL	SORT_AND_SPILL	53036073000
+SPILL	QUICK_SORT	38823503000
+SPILL	SORT_COUNT	1591630
+SPILL	COMBINE	0
+SPILL	WRITE	14212570000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	52115891
+SPILL	COMPRESS_BYTE_COUNT	15213476
+MERGE	TOTAL_MERGE	126060000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	85013355000
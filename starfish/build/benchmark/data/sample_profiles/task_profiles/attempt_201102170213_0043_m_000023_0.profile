@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00026	0
+MAP	STARTUP_MEM	214407088
+MAP	SETUP	902000
+MAP	SETUP_MEM	214407088
+MAP	CLEANUP	106000
+MAP	CLEANUP_MEM	222783584
+MAP	TOTAL_RUN	30835079000
+MAP	READ	10958573000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	593194
+MAP	VALUE_BYTE_COUNT	268247151
+MAP	MAP	19557228000
+MAP	WRITE	8739389000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1654059000
+MAP	SERIALIZE_OUTPUT	3532412000
+MAP	MAP_MEM	223639224
+SPILL	SORT_AND_SPILL	53632088000
+SPILL	QUICK_SORT	39353029000
+SPILL	SORT_COUNT	1619501
+SPILL	COMBINE	0
+SPILL	WRITE	14279059000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	53263375
+SPILL	COMPRESS_BYTE_COUNT	15057245
+MERGE	TOTAL_MERGE	1564000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	84969971000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00022	0
+MAP	STARTUP_MEM	215269536
+MAP	SETUP	523000
+MAP	SETUP_MEM	215269536
+MAP	CLEANUP	108000
+MAP	CLEANUP_MEM	220326704
+MAP	TOTAL_RUN	31014435000
+MAP	READ	11763607000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	575925
+MAP	VALUE_BYTE_COUNT	268184924
+MAP	MAP	18928936000
+MAP	WRITE	8645369000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1611063000
+MAP	SERIALIZE_OUTPUT	3448777000
+MAP	MAP_MEM	220326704
+SPILL	SORT_AND_SPILL	53480388000
+SPILL	QUICK_SORT	38883480000
+SPILL	SORT_COUNT	1606506
+SPILL	COMBINE	0
+SPILL	WRITE	14596908000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	52416026
+SPILL	COMPRESS_BYTE_COUNT	15352565
+MERGE	TOTAL_MERGE	1681000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	85020425000
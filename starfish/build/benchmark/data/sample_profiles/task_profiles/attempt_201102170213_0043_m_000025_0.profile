@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00025	0
+MAP	STARTUP_MEM	215511456
+MAP	SETUP	495000
+MAP	SETUP_MEM	215511456
+MAP	CLEANUP	106000
+MAP	CLEANUP_MEM	219528616
+MAP	TOTAL_RUN	29518014000
+MAP	READ	10827491000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	701225
+MAP	VALUE_BYTE_COUNT	268132169
+MAP	MAP	18312146000
+MAP	WRITE	8105715000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1374018000
+MAP	SERIALIZE_OUTPUT	3356069000
+MAP	MAP_MEM	219528616
+SPILL	SORT_AND_SPILL	50265709000
+SPILL	QUICK_SORT	36061952000
+SPILL	SORT_COUNT	1579641
+SPILL	COMBINE	0
+SPILL	WRITE	14203757000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	52634802
+SPILL	COMPRESS_BYTE_COUNT	15371020
+MERGE	TOTAL_MERGE	1639000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	80675380000
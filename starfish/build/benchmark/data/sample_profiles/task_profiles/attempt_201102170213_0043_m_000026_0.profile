@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00020	0
+MAP	STARTUP_MEM	216121632
+MAP	SETUP	485000
+MAP	SETUP_MEM	216121632
+MAP	CLEANUP	97000
+MAP	CLEANUP_MEM	239133448
+MAP	TOTAL_RUN	28819872000
+MAP	READ	10691174000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	539721
+MAP	VALUE_BYTE_COUNT	268209189
+MAP	MAP	17828952000
+MAP	WRITE	8394149000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1411680000
+MAP	SERIALIZE_OUTPUT	3512746000
+MAP	MAP_MEM	239133448
+SPILL	SORT_AND_SPILL	48426592000
+SPILL	QUICK_SORT	34186093000
+SPILL	SORT_COUNT	1644243
+SPILL	COMBINE	0
+SPILL	WRITE	14240499000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	54575978
+SPILL	COMPRESS_BYTE_COUNT	15230604
+MERGE	TOTAL_MERGE	1578000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	77715133000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00033	0
+MAP	STARTUP_MEM	214675640
+MAP	SETUP	423000
+MAP	SETUP_MEM	214675640
+MAP	CLEANUP	95000
+MAP	CLEANUP_MEM	214569376
+MAP	TOTAL_RUN	29934333000
+MAP	READ	11192808000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	689507
+MAP	VALUE_BYTE_COUNT	268175291
+MAP	MAP	18369282000
+MAP	WRITE	9170782000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1653224000
+MAP	SERIALIZE_OUTPUT	3509764000
+MAP	MAP_MEM	214569376
+SPILL	SORT_AND_SPILL	48214950000
+SPILL	QUICK_SORT	33971791000
+SPILL	SORT_COUNT	1582864
+SPILL	COMBINE	0
+SPILL	WRITE	14243159000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	52217066
+SPILL	COMPRESS_BYTE_COUNT	15308728
+MERGE	TOTAL_MERGE	1463000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	78731291000
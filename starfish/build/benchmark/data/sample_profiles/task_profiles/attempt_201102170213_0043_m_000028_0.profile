@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00029	0
+MAP	STARTUP_MEM	216119656
+MAP	SETUP	482000
+MAP	SETUP_MEM	216119656
+MAP	CLEANUP	96000
+MAP	CLEANUP_MEM	246414104
+MAP	TOTAL_RUN	29992260000
+MAP	READ	11953055000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	647031
+MAP	VALUE_BYTE_COUNT	268154942
+MAP	MAP	17679682000
+MAP	WRITE	8543815000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1348805000
+MAP	SERIALIZE_OUTPUT	3486513000
+MAP	MAP_MEM	246414104
+SPILL	SORT_AND_SPILL	44646613000
+SPILL	QUICK_SORT	30351382000
+SPILL	SORT_COUNT	1593034
+SPILL	COMBINE	0
+SPILL	WRITE	14295231000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	52559278
+SPILL	COMPRESS_BYTE_COUNT	15194752
+MERGE	TOTAL_MERGE	1655000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	75129274000
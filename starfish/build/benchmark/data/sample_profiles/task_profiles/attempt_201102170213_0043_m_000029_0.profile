@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00035	0
+MAP	STARTUP_MEM	215514536
+MAP	SETUP	573000
+MAP	SETUP_MEM	215514536
+MAP	CLEANUP	111000
+MAP	CLEANUP_MEM	230811080
+MAP	TOTAL_RUN	35245927000
+MAP	READ	12791048000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	738045
+MAP	VALUE_BYTE_COUNT	268117157
+MAP	MAP	21998770000
+MAP	WRITE	10544475000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1621685000
+MAP	SERIALIZE_OUTPUT	3716732000
+MAP	MAP_MEM	230811080
+SPILL	SORT_AND_SPILL	45243274000
+SPILL	QUICK_SORT	31282457000
+SPILL	SORT_COUNT	1496738
+SPILL	COMBINE	0
+SPILL	WRITE	13960817000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	49335937
+SPILL	COMPRESS_BYTE_COUNT	14835807
+MERGE	TOTAL_MERGE	1735000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	81002712000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00030	0
+MAP	STARTUP_MEM	214710040
+MAP	SETUP	428000
+MAP	SETUP_MEM	214710040
+MAP	CLEANUP	114000
+MAP	CLEANUP_MEM	244204424
+MAP	TOTAL_RUN	29205189000
+MAP	READ	10934596000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	653170
+MAP	VALUE_BYTE_COUNT	268155528
+MAP	MAP	17927460000
+MAP	WRITE	8078743000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1329024000
+MAP	SERIALIZE_OUTPUT	3287173000
+MAP	MAP_MEM	245060064
+SPILL	SORT_AND_SPILL	46979407000
+SPILL	QUICK_SORT	33249739000
+SPILL	SORT_COUNT	1560097
+SPILL	COMBINE	0
+SPILL	WRITE	13729668000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	51593059
+SPILL	COMPRESS_BYTE_COUNT	15070227
+MERGE	TOTAL_MERGE	1473000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	76659729000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00036	0
+MAP	STARTUP_MEM	214443824
+MAP	SETUP	444000
+MAP	SETUP_MEM	214443824
+MAP	CLEANUP	119000
+MAP	CLEANUP_MEM	220573600
+MAP	TOTAL_RUN	31549764000
+MAP	READ	11014926000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	750617
+MAP	VALUE_BYTE_COUNT	268113836
+MAP	MAP	20005722000
+MAP	WRITE	9838927000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1735843000
+MAP	SERIALIZE_OUTPUT	3702145000
+MAP	MAP_MEM	220573600
+SPILL	SORT_AND_SPILL	46538699000
+SPILL	QUICK_SORT	32207599000
+SPILL	SORT_COUNT	1570667
+SPILL	COMBINE	0
+SPILL	WRITE	14331100000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	51697160
+SPILL	COMPRESS_BYTE_COUNT	15352262
+MERGE	TOTAL_MERGE	8356000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	78765469000
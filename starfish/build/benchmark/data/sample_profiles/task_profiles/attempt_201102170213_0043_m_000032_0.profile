@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00032	0
+MAP	STARTUP_MEM	214414576
+MAP	SETUP	435000
+MAP	SETUP_MEM	214414576
+MAP	CLEANUP	90000
+MAP	CLEANUP_MEM	214753408
+MAP	TOTAL_RUN	30290175000
+MAP	READ	11271639000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	654087
+MAP	VALUE_BYTE_COUNT	268154076
+MAP	MAP	18641834000
+MAP	WRITE	8883045000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1739592000
+MAP	SERIALIZE_OUTPUT	3544367000
+MAP	MAP_MEM	214753408
+SPILL	SORT_AND_SPILL	47022122000
+SPILL	QUICK_SORT	33328078000
+SPILL	SORT_COUNT	1562741
+SPILL	COMBINE	0
+SPILL	WRITE	13694044000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	51702830
+SPILL	COMPRESS_BYTE_COUNT	15122876
+MERGE	TOTAL_MERGE	1356000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	77788127000
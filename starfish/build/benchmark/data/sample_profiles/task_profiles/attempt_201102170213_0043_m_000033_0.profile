@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00031	0
+MAP	STARTUP_MEM	214418760
+MAP	SETUP	443000
+MAP	SETUP_MEM	214418760
+MAP	CLEANUP	100000
+MAP	CLEANUP_MEM	245342384
+MAP	TOTAL_RUN	28549012000
+MAP	READ	10931736000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	669928
+MAP	VALUE_BYTE_COUNT	268149373
+MAP	MAP	17260703000
+MAP	WRITE	8043092000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1334293000
+MAP	SERIALIZE_OUTPUT	3433102000
+MAP	MAP_MEM	245342384
+SPILL	SORT_AND_SPILL	45580858000
+SPILL	QUICK_SORT	31753158000
+SPILL	SORT_COUNT	1549051
+SPILL	COMBINE	0
+SPILL	WRITE	13827700000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	51307920
+SPILL	COMPRESS_BYTE_COUNT	15164201
+MERGE	TOTAL_MERGE	1691000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	74709759000
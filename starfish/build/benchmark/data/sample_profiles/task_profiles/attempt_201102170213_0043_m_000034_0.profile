@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00037	0
+MAP	STARTUP_MEM	216169368
+MAP	SETUP	497000
+MAP	SETUP_MEM	216169368
+MAP	CLEANUP	101000
+MAP	CLEANUP_MEM	245719336
+MAP	TOTAL_RUN	28917267000
+MAP	READ	10777811000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	732221
+MAP	VALUE_BYTE_COUNT	268123571
+MAP	MAP	17730477000
+MAP	WRITE	8085933000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1398695000
+MAP	SERIALIZE_OUTPUT	3323676000
+MAP	MAP_MEM	245719336
+SPILL	SORT_AND_SPILL	45440783000
+SPILL	QUICK_SORT	31795365000
+SPILL	SORT_COUNT	1538967
+SPILL	COMBINE	0
+SPILL	WRITE	13645418000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	50538847
+SPILL	COMPRESS_BYTE_COUNT	14935647
+MERGE	TOTAL_MERGE	1458000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	74909039000
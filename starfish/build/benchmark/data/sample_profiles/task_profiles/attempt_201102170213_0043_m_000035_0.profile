@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00034	0
+MAP	STARTUP_MEM	215533800
+MAP	SETUP	548000
+MAP	SETUP_MEM	215533800
+MAP	CLEANUP	100000
+MAP	CLEANUP_MEM	228458240
+MAP	TOTAL_RUN	33008310000
+MAP	READ	13388509000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	693812
+MAP	VALUE_BYTE_COUNT	268104714
+MAP	MAP	19256348000
+MAP	WRITE	8402037000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1528504000
+MAP	SERIALIZE_OUTPUT	3491326000
+MAP	MAP_MEM	229020400
+SPILL	SORT_AND_SPILL	43574945000
+SPILL	QUICK_SORT	30202329000
+SPILL	SORT_COUNT	1517342
+SPILL	COMBINE	0
+SPILL	WRITE	13372616000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	50209987
+SPILL	COMPRESS_BYTE_COUNT	14991874
+MERGE	TOTAL_MERGE	1567000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	77017936000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00039	0
+MAP	STARTUP_MEM	216318048
+MAP	SETUP	529000
+MAP	SETUP_MEM	216318048
+MAP	CLEANUP	96000
+MAP	CLEANUP_MEM	245674624
+MAP	TOTAL_RUN	29045342000
+MAP	READ	10942759000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	711564
+MAP	VALUE_BYTE_COUNT	268124222
+MAP	MAP	17634703000
+MAP	WRITE	8210480000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1562440000
+MAP	SERIALIZE_OUTPUT	3263923000
+MAP	MAP_MEM	246530264
+SPILL	SORT_AND_SPILL	42562326000
+SPILL	QUICK_SORT	29216509000
+SPILL	SORT_COUNT	1469006
+SPILL	COMBINE	0
+SPILL	WRITE	13345817000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	48761753
+SPILL	COMPRESS_BYTE_COUNT	14426016
+MERGE	TOTAL_MERGE	1449000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	72107328000
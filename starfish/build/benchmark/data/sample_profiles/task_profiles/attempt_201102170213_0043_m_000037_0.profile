@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00038	0
+MAP	STARTUP_MEM	214671080
+MAP	SETUP	430000
+MAP	SETUP_MEM	214671080
+MAP	CLEANUP	110000
+MAP	CLEANUP_MEM	218459936
+MAP	TOTAL_RUN	31857934000
+MAP	READ	11324881000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	702303
+MAP	VALUE_BYTE_COUNT	268139162
+MAP	MAP	20063112000
+MAP	WRITE	8518501000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1334421000
+MAP	SERIALIZE_OUTPUT	3446818000
+MAP	MAP_MEM	219315576
+SPILL	SORT_AND_SPILL	44664677000
+SPILL	QUICK_SORT	31269987000
+SPILL	SORT_COUNT	1493493
+SPILL	COMBINE	0
+SPILL	WRITE	13394690000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	49105715
+SPILL	COMPRESS_BYTE_COUNT	14622236
+MERGE	TOTAL_MERGE	1678000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	77078499000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00044	0
+MAP	STARTUP_MEM	214403960
+MAP	SETUP	439000
+MAP	SETUP_MEM	214403960
+MAP	CLEANUP	101000
+MAP	CLEANUP_MEM	234249576
+MAP	TOTAL_RUN	32667520000
+MAP	READ	13150787000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	763574
+MAP	VALUE_BYTE_COUNT	268087459
+MAP	MAP	19044215000
+MAP	WRITE	9201116000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1606584000
+MAP	SERIALIZE_OUTPUT	3929232000
+MAP	MAP_MEM	234249576
+SPILL	SORT_AND_SPILL	44296854000
+SPILL	QUICK_SORT	30694152000
+SPILL	SORT_COUNT	1509409
+SPILL	COMBINE	0
+SPILL	WRITE	13602702000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	50133660
+SPILL	COMPRESS_BYTE_COUNT	14948459
+MERGE	TOTAL_MERGE	1561000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	77755395000
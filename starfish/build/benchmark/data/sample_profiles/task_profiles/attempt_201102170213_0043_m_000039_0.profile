@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00042	0
+MAP	STARTUP_MEM	215272688
+MAP	SETUP	496000
+MAP	SETUP_MEM	215272688
+MAP	CLEANUP	101000
+MAP	CLEANUP_MEM	231586656
+MAP	TOTAL_RUN	30910740000
+MAP	READ	10577465000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	769545
+MAP	VALUE_BYTE_COUNT	268104655
+MAP	MAP	19748087000
+MAP	WRITE	8898955000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1595584000
+MAP	SERIALIZE_OUTPUT	3758097000
+MAP	MAP_MEM	231586656
+SPILL	SORT_AND_SPILL	42400733000
+SPILL	QUICK_SORT	29223211000
+SPILL	SORT_COUNT	1499195
+SPILL	COMBINE	0
+SPILL	WRITE	13177522000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	49771621
+SPILL	COMPRESS_BYTE_COUNT	14901380
+MERGE	TOTAL_MERGE	1580000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	73821103000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00043	0
+MAP	STARTUP_MEM	215274000
+MAP	SETUP	499000
+MAP	SETUP_MEM	215274000
+MAP	CLEANUP	102000
+MAP	CLEANUP_MEM	243703096
+MAP	TOTAL_RUN	30666722000
+MAP	READ	10671282000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	770098
+MAP	VALUE_BYTE_COUNT	268125707
+MAP	MAP	19517457000
+MAP	WRITE	9383274000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1765528000
+MAP	SERIALIZE_OUTPUT	3412312000
+MAP	MAP_MEM	243703096
+SPILL	SORT_AND_SPILL	45236530000
+SPILL	QUICK_SORT	31707265000
+SPILL	SORT_COUNT	1464843
+SPILL	COMBINE	0
+SPILL	WRITE	13529265000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	49045758
+SPILL	COMPRESS_BYTE_COUNT	14730522
+MERGE	TOTAL_MERGE	1639000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	76394731000
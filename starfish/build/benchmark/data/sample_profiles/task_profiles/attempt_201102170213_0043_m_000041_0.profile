@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00047	0
+MAP	STARTUP_MEM	215513000
+MAP	SETUP	502000
+MAP	SETUP_MEM	215513000
+MAP	CLEANUP	109000
+MAP	CLEANUP_MEM	224208960
+MAP	TOTAL_RUN	30488487000
+MAP	READ	10693721000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	722386
+MAP	VALUE_BYTE_COUNT	268128741
+MAP	MAP	19409220000
+MAP	WRITE	7744026000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1240306000
+MAP	SERIALIZE_OUTPUT	3217548000
+MAP	MAP_MEM	224208960
+SPILL	SORT_AND_SPILL	45171090000
+SPILL	QUICK_SORT	31322880000
+SPILL	SORT_COUNT	1466445
+SPILL	COMBINE	0
+SPILL	WRITE	13848210000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	49238404
+SPILL	COMPRESS_BYTE_COUNT	14700407
+MERGE	TOTAL_MERGE	1472000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	76226802000
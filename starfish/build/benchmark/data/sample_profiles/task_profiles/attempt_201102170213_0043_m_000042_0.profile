@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00048	0
+MAP	STARTUP_MEM	215303112
+MAP	SETUP	499000
+MAP	SETUP_MEM	215303112
+MAP	CLEANUP	101000
+MAP	CLEANUP_MEM	227055192
+MAP	TOTAL_RUN	31855849000
+MAP	READ	11060230000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	750484
+MAP	VALUE_BYTE_COUNT	268151396
+MAP	MAP	20187306000
+MAP	WRITE	10084380000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1867333000
+MAP	SERIALIZE_OUTPUT	3639697000
+MAP	MAP_MEM	227055192
+SPILL	SORT_AND_SPILL	45322585000
+SPILL	QUICK_SORT	31634980000
+SPILL	SORT_COUNT	1470118
+SPILL	COMBINE	0
+SPILL	WRITE	13687605000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	49471274
+SPILL	COMPRESS_BYTE_COUNT	14788788
+MERGE	TOTAL_MERGE	2105000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	77899143000
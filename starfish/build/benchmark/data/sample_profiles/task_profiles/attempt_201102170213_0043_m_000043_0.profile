@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00049	0
+MAP	STARTUP_MEM	214470240
+MAP	SETUP	470000
+MAP	SETUP_MEM	214470240
+MAP	CLEANUP	108000
+MAP	CLEANUP_MEM	224801528
+MAP	TOTAL_RUN	32034838000
+MAP	READ	12158959000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	776650
+MAP	VALUE_BYTE_COUNT	268063125
+MAP	MAP	19340044000
+MAP	WRITE	8370250000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1361840000
+MAP	SERIALIZE_OUTPUT	3426414000
+MAP	MAP_MEM	224801528
+SPILL	SORT_AND_SPILL	49022496000
+SPILL	QUICK_SORT	32671919000
+SPILL	SORT_COUNT	1439841
+SPILL	COMBINE	0
+SPILL	WRITE	16350577000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	48925482
+SPILL	COMPRESS_BYTE_COUNT	14744152
+MERGE	TOTAL_MERGE	1728000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	81573522000
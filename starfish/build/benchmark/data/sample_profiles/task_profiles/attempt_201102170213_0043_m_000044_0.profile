@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00046	0
+MAP	STARTUP_MEM	214454400
+MAP	SETUP	437000
+MAP	SETUP_MEM	214454400
+MAP	CLEANUP	98000
+MAP	CLEANUP_MEM	232013672
+MAP	TOTAL_RUN	29335588000
+MAP	READ	10411316000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	780325
+MAP	VALUE_BYTE_COUNT	268098276
+MAP	MAP	18374385000
+MAP	WRITE	8786292000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1257168000
+MAP	SERIALIZE_OUTPUT	3635893000
+MAP	MAP_MEM	232013672
+SPILL	SORT_AND_SPILL	45632964000
+SPILL	QUICK_SORT	30724729000
+SPILL	SORT_COUNT	1441521
+SPILL	COMBINE	0
+SPILL	WRITE	14908235000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	48188976
+SPILL	COMPRESS_BYTE_COUNT	14507231
+MERGE	TOTAL_MERGE	1449000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	75444961000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00050	0
+MAP	STARTUP_MEM	215270376
+MAP	SETUP	528000
+MAP	SETUP_MEM	215270376
+MAP	CLEANUP	103000
+MAP	CLEANUP_MEM	225113936
+MAP	TOTAL_RUN	36819241000
+MAP	READ	14327693000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	739634
+MAP	VALUE_BYTE_COUNT	268119530
+MAP	MAP	21877091000
+MAP	WRITE	10666020000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1645022000
+MAP	SERIALIZE_OUTPUT	3691500000
+MAP	MAP_MEM	225113936
+SPILL	SORT_AND_SPILL	42174135000
+SPILL	QUICK_SORT	28907801000
+SPILL	SORT_COUNT	1375425
+SPILL	COMBINE	0
+SPILL	WRITE	13266334000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	46825430
+SPILL	COMPRESS_BYTE_COUNT	14380086
+MERGE	TOTAL_MERGE	5652000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	79568516000
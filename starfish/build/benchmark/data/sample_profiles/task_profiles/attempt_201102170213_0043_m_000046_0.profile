@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00041	0
+MAP	STARTUP_MEM	216142280
+MAP	SETUP	558000
+MAP	SETUP_MEM	216142280
+MAP	CLEANUP	116000
+MAP	CLEANUP_MEM	236743224
+MAP	TOTAL_RUN	32890894000
+MAP	READ	12367759000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	717878
+MAP	VALUE_BYTE_COUNT	268127570
+MAP	MAP	20014317000
+MAP	WRITE	9720191000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1738444000
+MAP	SERIALIZE_OUTPUT	3670909000
+MAP	MAP_MEM	236743224
+SPILL	SORT_AND_SPILL	54063083819
+SPILL	QUICK_SORT	38505987819
+SPILL	SORT_COUNT	1457523
+SPILL	COMBINE	0
+SPILL	WRITE	15557096000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	47514553
+SPILL	COMPRESS_BYTE_COUNT	14220316
+MERGE	TOTAL_MERGE	1718000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	87610906819
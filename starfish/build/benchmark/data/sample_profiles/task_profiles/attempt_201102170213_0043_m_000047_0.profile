@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00040	0
+MAP	STARTUP_MEM	215275520
+MAP	SETUP	498000
+MAP	SETUP_MEM	215275520
+MAP	CLEANUP	151000
+MAP	CLEANUP_MEM	221775952
+MAP	TOTAL_RUN	32450824000
+MAP	READ	11508053000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	699944
+MAP	VALUE_BYTE_COUNT	268137021
+MAP	MAP	20410286000
+MAP	WRITE	9606137000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1674587000
+MAP	SERIALIZE_OUTPUT	3469721000
+MAP	MAP_MEM	221775952
+SPILL	SORT_AND_SPILL	55430445819
+SPILL	QUICK_SORT	38828570819
+SPILL	SORT_COUNT	1410969
+SPILL	COMBINE	0
+SPILL	WRITE	16601875000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	46364644
+SPILL	COMPRESS_BYTE_COUNT	14075648
+MERGE	TOTAL_MERGE	1826000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	88909209819
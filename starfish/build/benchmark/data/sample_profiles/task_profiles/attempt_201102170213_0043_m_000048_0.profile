@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00051	0
+MAP	STARTUP_MEM	216344008
+MAP	SETUP	508000
+MAP	SETUP_MEM	216344008
+MAP	CLEANUP	96000
+MAP	CLEANUP_MEM	240457216
+MAP	TOTAL_RUN	30475099000
+MAP	READ	10813838000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	752472
+MAP	VALUE_BYTE_COUNT	268113051
+MAP	MAP	19115627000
+MAP	WRITE	9088006000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1382138000
+MAP	SERIALIZE_OUTPUT	3131406000
+MAP	MAP_MEM	240457216
+SPILL	SORT_AND_SPILL	45540424000
+SPILL	QUICK_SORT	31525098000
+SPILL	SORT_COUNT	1409928
+SPILL	COMBINE	0
+SPILL	WRITE	14015326000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	48677293
+SPILL	COMPRESS_BYTE_COUNT	14444743
+MERGE	TOTAL_MERGE	1669000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	76518960000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00045	0
+MAP	STARTUP_MEM	214474336
+MAP	SETUP	453000
+MAP	SETUP_MEM	214474336
+MAP	CLEANUP	97000
+MAP	CLEANUP_MEM	211093944
+MAP	TOTAL_RUN	29899976000
+MAP	READ	11368035000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	773304
+MAP	VALUE_BYTE_COUNT	268106809
+MAP	MAP	18037201000
+MAP	WRITE	8457640000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1439032000
+MAP	SERIALIZE_OUTPUT	3162464000
+MAP	MAP_MEM	212286240
+SPILL	SORT_AND_SPILL	40470153000
+SPILL	QUICK_SORT	27582043000
+SPILL	SORT_COUNT	1410546
+SPILL	COMBINE	0
+SPILL	WRITE	12888110000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	47017376
+SPILL	COMPRESS_BYTE_COUNT	14197388
+MERGE	TOTAL_MERGE	1702000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	70842810000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00052	0
+MAP	STARTUP_MEM	215281368
+MAP	SETUP	542000
+MAP	SETUP_MEM	215281368
+MAP	CLEANUP	110000
+MAP	CLEANUP_MEM	233936240
+MAP	TOTAL_RUN	34695147152
+MAP	READ	11931669152
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	720860
+MAP	VALUE_BYTE_COUNT	268128052
+MAP	MAP	22289503000
+MAP	WRITE	10420734000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1766171000
+MAP	SERIALIZE_OUTPUT	3874615000
+MAP	MAP_MEM	233936240
+SPILL	SORT_AND_SPILL	49710441000
+SPILL	QUICK_SORT	34817412000
+SPILL	SORT_COUNT	1509278
+SPILL	COMBINE	0
+SPILL	WRITE	14893029000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	51853812
+SPILL	COMPRESS_BYTE_COUNT	14832932
+MERGE	TOTAL_MERGE	1799000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	84918770152
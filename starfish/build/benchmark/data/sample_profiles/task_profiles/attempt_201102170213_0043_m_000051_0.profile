@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00054	0
+MAP	STARTUP_MEM	216350400
+MAP	SETUP	498000
+MAP	SETUP_MEM	216350400
+MAP	CLEANUP	128000
+MAP	CLEANUP_MEM	234331048
+MAP	TOTAL_RUN	34448473000
+MAP	READ	11942614000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	736001
+MAP	VALUE_BYTE_COUNT	268140563
+MAP	MAP	21869097000
+MAP	WRITE	9984665000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1422340000
+MAP	SERIALIZE_OUTPUT	3450186000
+MAP	MAP_MEM	234331048
+SPILL	SORT_AND_SPILL	46145059000
+SPILL	QUICK_SORT	31619866000
+SPILL	SORT_COUNT	1479692
+SPILL	COMBINE	0
+SPILL	WRITE	14525193000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	50547013
+SPILL	COMPRESS_BYTE_COUNT	14376651
+MERGE	TOTAL_MERGE	1470000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	81814911000
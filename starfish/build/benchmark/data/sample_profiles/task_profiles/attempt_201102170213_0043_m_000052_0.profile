@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00053	0
+MAP	STARTUP_MEM	214619392
+MAP	SETUP	499000
+MAP	SETUP_MEM	214619392
+MAP	CLEANUP	101000
+MAP	CLEANUP_MEM	224742928
+MAP	TOTAL_RUN	28709318000
+MAP	READ	10638385000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	703612
+MAP	VALUE_BYTE_COUNT	268130308
+MAP	MAP	17715075000
+MAP	WRITE	7437446000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1221981000
+MAP	SERIALIZE_OUTPUT	3076354000
+MAP	MAP_MEM	224742928
+SPILL	SORT_AND_SPILL	44577589000
+SPILL	QUICK_SORT	30912192000
+SPILL	SORT_COUNT	1378760
+SPILL	COMBINE	0
+SPILL	WRITE	13665397000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	47196615
+SPILL	COMPRESS_BYTE_COUNT	13553662
+MERGE	TOTAL_MERGE	1545000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	74085412000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00055	0
+MAP	STARTUP_MEM	215253600
+MAP	SETUP	619000
+MAP	SETUP_MEM	215253600
+MAP	CLEANUP	95000
+MAP	CLEANUP_MEM	233574688
+MAP	TOTAL_RUN	32570150979
+MAP	READ	11992767979
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	834029
+MAP	VALUE_BYTE_COUNT	268057504
+MAP	MAP	19989255000
+MAP	WRITE	9445795000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1814439000
+MAP	SERIALIZE_OUTPUT	3541865000
+MAP	MAP_MEM	233574688
+SPILL	SORT_AND_SPILL	48082931000
+SPILL	QUICK_SORT	33787432000
+SPILL	SORT_COUNT	1443704
+SPILL	COMBINE	0
+SPILL	WRITE	14295499000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	49562076
+SPILL	COMPRESS_BYTE_COUNT	14306653
+MERGE	TOTAL_MERGE	1705000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	81435374979
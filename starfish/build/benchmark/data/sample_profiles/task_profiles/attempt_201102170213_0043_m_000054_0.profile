@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00003	0
+MAP	STARTUP_MEM	216155344
+MAP	SETUP	490000
+MAP	SETUP_MEM	216155344
+MAP	CLEANUP	103000
+MAP	CLEANUP_MEM	247310656
+MAP	TOTAL_RUN	32402391000
+MAP	READ	11828035000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	150625
+MAP	VALUE_BYTE_COUNT	268343044
+MAP	MAP	20451724000
+MAP	WRITE	10097492000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1757165000
+MAP	SERIALIZE_OUTPUT	4198005000
+MAP	MAP_MEM	247310656
+SPILL	SORT_AND_SPILL	39822186000
+SPILL	QUICK_SORT	26260259000
+SPILL	SORT_COUNT	1621784
+SPILL	COMBINE	0
+SPILL	WRITE	13561927000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	51953775
+SPILL	COMPRESS_BYTE_COUNT	12145135
+MERGE	TOTAL_MERGE	1647000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	73577725000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00058	0
+MAP	STARTUP_MEM	215473840
+MAP	SETUP	552000
+MAP	SETUP_MEM	215473840
+MAP	CLEANUP	96000
+MAP	CLEANUP_MEM	233853672
+MAP	TOTAL_RUN	28321854000
+MAP	READ	10467349000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	806470
+MAP	VALUE_BYTE_COUNT	268085308
+MAP	MAP	17397977000
+MAP	WRITE	7999809000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1356075000
+MAP	SERIALIZE_OUTPUT	3215830000
+MAP	MAP_MEM	233853672
+SPILL	SORT_AND_SPILL	40473953000
+SPILL	QUICK_SORT	27448911000
+SPILL	SORT_COUNT	1484177
+SPILL	COMBINE	0
+SPILL	WRITE	13025042000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	50177219
+SPILL	COMPRESS_BYTE_COUNT	14471916
+MERGE	TOTAL_MERGE	1548000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	69348821000
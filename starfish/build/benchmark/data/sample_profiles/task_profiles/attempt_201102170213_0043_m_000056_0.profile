@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00060	0
+MAP	STARTUP_MEM	215263632
+MAP	SETUP	486000
+MAP	SETUP_MEM	215263632
+MAP	CLEANUP	93000
+MAP	CLEANUP_MEM	213643024
+MAP	TOTAL_RUN	27441580000
+MAP	READ	10278931000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	741860
+MAP	VALUE_BYTE_COUNT	268108668
+MAP	MAP	16792142000
+MAP	WRITE	7354558000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1117646000
+MAP	SERIALIZE_OUTPUT	3203782000
+MAP	MAP_MEM	213643024
+SPILL	SORT_AND_SPILL	37167695000
+SPILL	QUICK_SORT	25659368000
+SPILL	SORT_COUNT	1269725
+SPILL	COMBINE	0
+SPILL	WRITE	11508327000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	44099856
+SPILL	COMPRESS_BYTE_COUNT	12954552
+MERGE	TOTAL_MERGE	1575000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	65039709000
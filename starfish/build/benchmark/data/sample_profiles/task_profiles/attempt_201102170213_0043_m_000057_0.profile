@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00062	0
+MAP	STARTUP_MEM	215295776
+MAP	SETUP	522000
+MAP	SETUP_MEM	215295776
+MAP	CLEANUP	101000
+MAP	CLEANUP_MEM	223748224
+MAP	TOTAL_RUN	30225776000
+MAP	READ	12607774000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	712411
+MAP	VALUE_BYTE_COUNT	268079054
+MAP	MAP	17260617000
+MAP	WRITE	7137945000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1222933000
+MAP	SERIALIZE_OUTPUT	2951078000
+MAP	MAP_MEM	224310384
+SPILL	SORT_AND_SPILL	44141540000
+SPILL	QUICK_SORT	31485703000
+SPILL	SORT_COUNT	1277782
+SPILL	COMBINE	0
+SPILL	WRITE	12655837000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	44176193
+SPILL	COMPRESS_BYTE_COUNT	12933244
+MERGE	TOTAL_MERGE	1750000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	74857068000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00071	0
+MAP	STARTUP_MEM	215258440
+MAP	SETUP	502000
+MAP	SETUP_MEM	215258440
+MAP	CLEANUP	98000
+MAP	CLEANUP_MEM	213774784
+MAP	TOTAL_RUN	30572820979
+MAP	READ	11225810000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	724038
+MAP	VALUE_BYTE_COUNT	268125305
+MAP	MAP	18799577979
+MAP	WRITE	8711719979
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1530318000
+MAP	SERIALIZE_OUTPUT	3275916979
+MAP	MAP_MEM	213774784
+SPILL	SORT_AND_SPILL	42574924000
+SPILL	QUICK_SORT	30367508000
+SPILL	SORT_COUNT	1282786
+SPILL	COMBINE	0
+SPILL	WRITE	12207416000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	44744285
+SPILL	COMPRESS_BYTE_COUNT	13272403
+MERGE	TOTAL_MERGE	1676000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	73817435979
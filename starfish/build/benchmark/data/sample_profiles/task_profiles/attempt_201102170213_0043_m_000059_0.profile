@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00061	0
+MAP	STARTUP_MEM	216101664
+MAP	SETUP	591000
+MAP	SETUP_MEM	216101664
+MAP	CLEANUP	102000
+MAP	CLEANUP_MEM	232344536
+MAP	TOTAL_RUN	30763999000
+MAP	READ	12663143000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	782138
+MAP	VALUE_BYTE_COUNT	268183222
+MAP	MAP	17516513000
+MAP	WRITE	8220161000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1418975000
+MAP	SERIALIZE_OUTPUT	3077019000
+MAP	MAP_MEM	232344536
+SPILL	SORT_AND_SPILL	39736483000
+SPILL	QUICK_SORT	28166304000
+SPILL	SORT_COUNT	1290739
+SPILL	COMBINE	0
+SPILL	WRITE	11570179000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	45271785
+SPILL	COMPRESS_BYTE_COUNT	13047552
+MERGE	TOTAL_MERGE	1463000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	71124389000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00073	0
+MAP	STARTUP_MEM	215293632
+MAP	SETUP	561000
+MAP	SETUP_MEM	215293632
+MAP	CLEANUP	101000
+MAP	CLEANUP_MEM	236449768
+MAP	TOTAL_RUN	31500722000
+MAP	READ	12155878000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	763112
+MAP	VALUE_BYTE_COUNT	267936156
+MAP	MAP	18196428000
+MAP	WRITE	8516326000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1256356000
+MAP	SERIALIZE_OUTPUT	3944815000
+MAP	MAP_MEM	236449768
+SPILL	SORT_AND_SPILL	48917495000
+SPILL	QUICK_SORT	27776237000
+SPILL	SORT_COUNT	1401579
+SPILL	COMBINE	0
+SPILL	WRITE	21141258000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	48807589
+SPILL	COMPRESS_BYTE_COUNT	14128333
+MERGE	TOTAL_MERGE	1579000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	81114291000
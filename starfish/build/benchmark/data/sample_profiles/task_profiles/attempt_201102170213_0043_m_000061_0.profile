@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00072	0
+MAP	STARTUP_MEM	214430048
+MAP	SETUP	586000
+MAP	SETUP_MEM	214430048
+MAP	CLEANUP	109000
+MAP	CLEANUP_MEM	217732928
+MAP	TOTAL_RUN	30620098000
+MAP	READ	10953282000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	731899
+MAP	VALUE_BYTE_COUNT	268292915
+MAP	MAP	19277193000
+MAP	WRITE	8267838000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1658742000
+MAP	SERIALIZE_OUTPUT	3441606000
+MAP	MAP_MEM	217732928
+SPILL	SORT_AND_SPILL	44524788000
+SPILL	QUICK_SORT	32615550000
+SPILL	SORT_COUNT	1305786
+SPILL	COMBINE	0
+SPILL	WRITE	11909238000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	45111739
+SPILL	COMPRESS_BYTE_COUNT	13009325
+MERGE	TOTAL_MERGE	1779000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	75675628000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00066	0
+MAP	STARTUP_MEM	214480208
+MAP	SETUP	447000
+MAP	SETUP_MEM	214480208
+MAP	CLEANUP	100000
+MAP	CLEANUP_MEM	225757152
+MAP	TOTAL_RUN	28170665000
+MAP	READ	10978358000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	775425
+MAP	VALUE_BYTE_COUNT	268100749
+MAP	MAP	16802706000
+MAP	WRITE	7639813000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1242586000
+MAP	SERIALIZE_OUTPUT	3261488000
+MAP	MAP_MEM	226613072
+SPILL	SORT_AND_SPILL	40597728000
+SPILL	QUICK_SORT	29161803000
+SPILL	SORT_COUNT	1279920
+SPILL	COMBINE	0
+SPILL	WRITE	11435925000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	45070748
+SPILL	COMPRESS_BYTE_COUNT	13109744
+MERGE	TOTAL_MERGE	1571000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	69365220000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00088	0
+MAP	STARTUP_MEM	215285056
+MAP	SETUP	521000
+MAP	SETUP_MEM	215285056
+MAP	CLEANUP	102000
+MAP	CLEANUP_MEM	235065152
+MAP	TOTAL_RUN	32988705000
+MAP	READ	11912375000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	717290
+MAP	VALUE_BYTE_COUNT	268129089
+MAP	MAP	20538715000
+MAP	WRITE	9880809000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1457100000
+MAP	SERIALIZE_OUTPUT	3311897000
+MAP	MAP_MEM	235627312
+SPILL	SORT_AND_SPILL	37287208000
+SPILL	QUICK_SORT	25802836000
+SPILL	SORT_COUNT	1252205
+SPILL	COMBINE	0
+SPILL	WRITE	11484372000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	44377994
+SPILL	COMPRESS_BYTE_COUNT	12420090
+MERGE	TOTAL_MERGE	1772000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	70778238000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00064	0
+MAP	STARTUP_MEM	216084464
+MAP	SETUP	495000
+MAP	SETUP_MEM	216084464
+MAP	CLEANUP	104000
+MAP	CLEANUP_MEM	243947128
+MAP	TOTAL_RUN	32482471943
+MAP	READ	13083454943
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	664482
+MAP	VALUE_BYTE_COUNT	268150342
+MAP	MAP	18947378000
+MAP	WRITE	8953886000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1693246000
+MAP	SERIALIZE_OUTPUT	3516545000
+MAP	MAP_MEM	244802784
+SPILL	SORT_AND_SPILL	49473321000
+SPILL	QUICK_SORT	31948092000
+SPILL	SORT_COUNT	1499849
+SPILL	COMBINE	0
+SPILL	WRITE	17525229000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	51698525
+SPILL	COMPRESS_BYTE_COUNT	15682312
+MERGE	TOTAL_MERGE	1589000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	82422319943
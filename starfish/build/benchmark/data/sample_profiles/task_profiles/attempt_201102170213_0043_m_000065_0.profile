@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00100	0
+MAP	STARTUP_MEM	216155088
+MAP	SETUP	470000
+MAP	SETUP_MEM	216155088
+MAP	CLEANUP	110000
+MAP	CLEANUP_MEM	229119424
+MAP	TOTAL_RUN	29113966000
+MAP	READ	11680928000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	721427
+MAP	VALUE_BYTE_COUNT	268188441
+MAP	MAP	17027467000
+MAP	WRITE	8144531000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1257006000
+MAP	SERIALIZE_OUTPUT	3607143000
+MAP	MAP_MEM	229119424
+SPILL	SORT_AND_SPILL	50495702000
+SPILL	QUICK_SORT	34074017000
+SPILL	SORT_COUNT	1368617
+SPILL	COMBINE	0
+SPILL	WRITE	16421685000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	49830680
+SPILL	COMPRESS_BYTE_COUNT	15441807
+MERGE	TOTAL_MERGE	1481000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	80231977000
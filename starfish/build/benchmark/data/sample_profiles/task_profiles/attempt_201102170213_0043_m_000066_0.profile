@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00080	0
+MAP	STARTUP_MEM	214619120
+MAP	SETUP	451000
+MAP	SETUP_MEM	214619120
+MAP	CLEANUP	104000
+MAP	CLEANUP_MEM	241246504
+MAP	TOTAL_RUN	27662212000
+MAP	READ	10467134000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	723499
+MAP	VALUE_BYTE_COUNT	268135391
+MAP	MAP	16792028000
+MAP	WRITE	7177824000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1216387000
+MAP	SERIALIZE_OUTPUT	2764911000
+MAP	MAP_MEM	241808664
+SPILL	SORT_AND_SPILL	39324244000
+SPILL	QUICK_SORT	27705309000
+SPILL	SORT_COUNT	1202528
+SPILL	COMBINE	0
+SPILL	WRITE	11618935000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	42203738
+SPILL	COMPRESS_BYTE_COUNT	12385770
+MERGE	TOTAL_MERGE	1745000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	67502207000
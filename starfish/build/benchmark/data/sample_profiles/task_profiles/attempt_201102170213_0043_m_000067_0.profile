@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00099	0
+MAP	STARTUP_MEM	214501600
+MAP	SETUP	438000
+MAP	SETUP_MEM	214501600
+MAP	CLEANUP	91000
+MAP	CLEANUP_MEM	238936712
+MAP	TOTAL_RUN	27082862000
+MAP	READ	10048069000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	747726
+MAP	VALUE_BYTE_COUNT	268111998
+MAP	MAP	16575818000
+MAP	WRITE	6736919000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1130860000
+MAP	SERIALIZE_OUTPUT	2813346000
+MAP	MAP_MEM	239792352
+SPILL	SORT_AND_SPILL	35819267000
+SPILL	QUICK_SORT	24581346000
+SPILL	SORT_COUNT	1231990
+SPILL	COMBINE	0
+SPILL	WRITE	11237921000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	43820468
+SPILL	COMPRESS_BYTE_COUNT	13026382
+MERGE	TOTAL_MERGE	1586000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	63650797000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00075	0
+MAP	STARTUP_MEM	215539416
+MAP	SETUP	492000
+MAP	SETUP_MEM	215539416
+MAP	CLEANUP	98000
+MAP	CLEANUP_MEM	218630864
+MAP	TOTAL_RUN	28305271000
+MAP	READ	11078193000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	775285
+MAP	VALUE_BYTE_COUNT	268028286
+MAP	MAP	16618499000
+MAP	WRITE	7751570000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1203540000
+MAP	SERIALIZE_OUTPUT	2958385000
+MAP	MAP_MEM	218630864
+SPILL	SORT_AND_SPILL	39504587000
+SPILL	QUICK_SORT	26669788000
+SPILL	SORT_COUNT	1302002
+SPILL	COMBINE	0
+SPILL	WRITE	12834799000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	45341559
+SPILL	COMPRESS_BYTE_COUNT	13016454
+MERGE	TOTAL_MERGE	1437000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	68318258000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00093	0
+MAP	STARTUP_MEM	216170352
+MAP	SETUP	565000
+MAP	SETUP_MEM	216170352
+MAP	CLEANUP	100000
+MAP	CLEANUP_MEM	229416968
+MAP	TOTAL_RUN	29403280000
+MAP	READ	11260874000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	729771
+MAP	VALUE_BYTE_COUNT	268053860
+MAP	MAP	17759461000
+MAP	WRITE	6835326000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1127070000
+MAP	SERIALIZE_OUTPUT	2887235000
+MAP	MAP_MEM	229416968
+SPILL	SORT_AND_SPILL	38603628000
+SPILL	QUICK_SORT	27042922000
+SPILL	SORT_COUNT	1218945
+SPILL	COMBINE	0
+SPILL	WRITE	11560706000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	42643256
+SPILL	COMPRESS_BYTE_COUNT	12335566
+MERGE	TOTAL_MERGE	1685000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	68692148000
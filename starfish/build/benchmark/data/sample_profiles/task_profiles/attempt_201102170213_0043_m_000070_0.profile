@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00094	0
+MAP	STARTUP_MEM	216362800
+MAP	SETUP	500000
+MAP	SETUP_MEM	216362800
+MAP	CLEANUP	109000
+MAP	CLEANUP_MEM	234723608
+MAP	TOTAL_RUN	30271585000
+MAP	READ	13034933000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	780038
+MAP	VALUE_BYTE_COUNT	268080054
+MAP	MAP	16815527000
+MAP	WRITE	7396673000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1151032000
+MAP	SERIALIZE_OUTPUT	2704493000
+MAP	MAP_MEM	234723608
+SPILL	SORT_AND_SPILL	36952046000
+SPILL	QUICK_SORT	25413413000
+SPILL	SORT_COUNT	1221119
+SPILL	COMBINE	0
+SPILL	WRITE	11538633000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	42790812
+SPILL	COMPRESS_BYTE_COUNT	12613255
+MERGE	TOTAL_MERGE	1569000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	67764225000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00078	0
+MAP	STARTUP_MEM	215470016
+MAP	SETUP	477000
+MAP	SETUP_MEM	215470016
+MAP	CLEANUP	91000
+MAP	CLEANUP_MEM	213439184
+MAP	TOTAL_RUN	28028674943
+MAP	READ	10242710000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	793233
+MAP	VALUE_BYTE_COUNT	268089243
+MAP	MAP	17335889943
+MAP	WRITE	6749407943
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1075752000
+MAP	SERIALIZE_OUTPUT	2705464000
+MAP	MAP_MEM	213439184
+SPILL	SORT_AND_SPILL	38235287000
+SPILL	QUICK_SORT	26146998000
+SPILL	SORT_COUNT	1268019
+SPILL	COMBINE	0
+SPILL	WRITE	12088289000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	43967433
+SPILL	COMPRESS_BYTE_COUNT	12871009
+MERGE	TOTAL_MERGE	1591000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	66701080943
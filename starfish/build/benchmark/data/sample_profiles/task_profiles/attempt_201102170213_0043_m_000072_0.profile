@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00083	0
+MAP	STARTUP_MEM	214437888
+MAP	SETUP	498000
+MAP	SETUP_MEM	214437888
+MAP	CLEANUP	99000
+MAP	CLEANUP_MEM	232474320
+MAP	TOTAL_RUN	29777802000
+MAP	READ	11224116000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	726726
+MAP	VALUE_BYTE_COUNT	268151198
+MAP	MAP	18084664000
+MAP	WRITE	7810139000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1359772000
+MAP	SERIALIZE_OUTPUT	2926773000
+MAP	MAP_MEM	232474320
+SPILL	SORT_AND_SPILL	36948628000
+SPILL	QUICK_SORT	25570462000
+SPILL	SORT_COUNT	1228507
+SPILL	COMBINE	0
+SPILL	WRITE	11378166000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	43202092
+SPILL	COMPRESS_BYTE_COUNT	12384878
+MERGE	TOTAL_MERGE	1755000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	67190383000
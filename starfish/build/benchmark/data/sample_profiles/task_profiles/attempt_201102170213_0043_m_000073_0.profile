@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00082	0
+MAP	STARTUP_MEM	216363352
+MAP	SETUP	466000
+MAP	SETUP_MEM	216363352
+MAP	CLEANUP	100000
+MAP	CLEANUP_MEM	233422792
+MAP	TOTAL_RUN	30889588000
+MAP	READ	9493765000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	701470
+MAP	VALUE_BYTE_COUNT	268137518
+MAP	MAP	19993131000
+MAP	WRITE	8483763000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1972871000
+MAP	SERIALIZE_OUTPUT	3123150000
+MAP	MAP_MEM	233422792
+SPILL	SORT_AND_SPILL	35412187000
+SPILL	QUICK_SORT	24091744000
+SPILL	SORT_COUNT	1268013
+SPILL	COMBINE	0
+SPILL	WRITE	11320443000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	44503749
+SPILL	COMPRESS_BYTE_COUNT	12817815
+MERGE	TOTAL_MERGE	1601000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	66778876000
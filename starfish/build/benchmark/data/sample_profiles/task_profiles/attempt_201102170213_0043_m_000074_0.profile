@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00089	0
+MAP	STARTUP_MEM	215264928
+MAP	SETUP	543000
+MAP	SETUP_MEM	215264928
+MAP	CLEANUP	115000
+MAP	CLEANUP_MEM	224066888
+MAP	TOTAL_RUN	29268975000
+MAP	READ	10331244000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	737996
+MAP	VALUE_BYTE_COUNT	268212474
+MAP	MAP	18469792000
+MAP	WRITE	8086295000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1489901000
+MAP	SERIALIZE_OUTPUT	2900266000
+MAP	MAP_MEM	224066888
+SPILL	SORT_AND_SPILL	52010884000
+SPILL	QUICK_SORT	29366036000
+SPILL	SORT_COUNT	1221152
+SPILL	COMBINE	0
+SPILL	WRITE	22644848000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	43236924
+SPILL	COMPRESS_BYTE_COUNT	12706620
+MERGE	TOTAL_MERGE	201526000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	82623802000
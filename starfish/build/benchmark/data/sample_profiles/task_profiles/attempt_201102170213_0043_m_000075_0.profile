@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00057	0
+MAP	STARTUP_MEM	216407304
+MAP	SETUP	491000
+MAP	SETUP_MEM	216407304
+MAP	CLEANUP	108000
+MAP	CLEANUP_MEM	243286424
+MAP	TOTAL_RUN	29733197000
+MAP	READ	10678977000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	821947
+MAP	VALUE_BYTE_COUNT	268030563
+MAP	MAP	18645812000
+MAP	WRITE	8024211000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1274679000
+MAP	SERIALIZE_OUTPUT	3071164000
+MAP	MAP_MEM	244142080
+SPILL	SORT_AND_SPILL	45058784000
+SPILL	QUICK_SORT	30641139000
+SPILL	SORT_COUNT	1473297
+SPILL	COMBINE	0
+SPILL	WRITE	14417645000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	48956613
+SPILL	COMPRESS_BYTE_COUNT	13865408
+MERGE	TOTAL_MERGE	1823000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	75343365000
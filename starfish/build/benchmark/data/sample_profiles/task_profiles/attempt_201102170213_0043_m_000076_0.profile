@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00068	0
+MAP	STARTUP_MEM	215511528
+MAP	SETUP	470000
+MAP	SETUP_MEM	215511528
+MAP	CLEANUP	102000
+MAP	CLEANUP_MEM	218743352
+MAP	TOTAL_RUN	29602585000
+MAP	READ	12413448000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	788774
+MAP	VALUE_BYTE_COUNT	268067637
+MAP	MAP	16762198000
+MAP	WRITE	7244473000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1225167000
+MAP	SERIALIZE_OUTPUT	3002852000
+MAP	MAP_MEM	219305512
+SPILL	SORT_AND_SPILL	37622972000
+SPILL	QUICK_SORT	26063674000
+SPILL	SORT_COUNT	1249700
+SPILL	COMBINE	0
+SPILL	WRITE	11559298000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	43833602
+SPILL	COMPRESS_BYTE_COUNT	12183499
+MERGE	TOTAL_MERGE	1667000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	67743401000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00077	0
+MAP	STARTUP_MEM	215302416
+MAP	SETUP	544000
+MAP	SETUP_MEM	215302416
+MAP	CLEANUP	112000
+MAP	CLEANUP_MEM	234794536
+MAP	TOTAL_RUN	31373451777
+MAP	READ	10967803777
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	758534
+MAP	VALUE_BYTE_COUNT	268096800
+MAP	MAP	19705627000
+MAP	WRITE	8872607000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1510581000
+MAP	SERIALIZE_OUTPUT	3529935000
+MAP	MAP_MEM	234794536
+SPILL	SORT_AND_SPILL	41678086760
+SPILL	QUICK_SORT	29427679000
+SPILL	SORT_COUNT	1355949
+SPILL	COMBINE	0
+SPILL	WRITE	12250407760
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	47061379
+SPILL	COMPRESS_BYTE_COUNT	13112420
+MERGE	TOTAL_MERGE	1788000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	73504197537
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00087	0
+MAP	STARTUP_MEM	214465352
+MAP	SETUP	458000
+MAP	SETUP_MEM	214465352
+MAP	CLEANUP	115000
+MAP	CLEANUP_MEM	233347512
+MAP	TOTAL_RUN	31081639000
+MAP	READ	12072900000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	784049
+MAP	VALUE_BYTE_COUNT	267707113
+MAP	MAP	18535439000
+MAP	WRITE	7835533000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1185659000
+MAP	SERIALIZE_OUTPUT	3190038000
+MAP	MAP_MEM	233347512
+SPILL	SORT_AND_SPILL	42176038000
+SPILL	QUICK_SORT	29568523000
+SPILL	SORT_COUNT	1297428
+SPILL	COMBINE	0
+SPILL	WRITE	12607515000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	45431321
+SPILL	COMPRESS_BYTE_COUNT	13017649
+MERGE	TOTAL_MERGE	1643000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	73979190000
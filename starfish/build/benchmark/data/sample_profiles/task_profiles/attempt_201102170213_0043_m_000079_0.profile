@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00098	0
+MAP	STARTUP_MEM	215259712
+MAP	SETUP	564000
+MAP	SETUP_MEM	215259712
+MAP	CLEANUP	106000
+MAP	CLEANUP_MEM	227579384
+MAP	TOTAL_RUN	29363948000
+MAP	READ	11101295000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	717045
+MAP	VALUE_BYTE_COUNT	268129812
+MAP	MAP	17795699000
+MAP	WRITE	7625858000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1300668000
+MAP	SERIALIZE_OUTPUT	2805883000
+MAP	MAP_MEM	227579384
+SPILL	SORT_AND_SPILL	67173298000
+SPILL	QUICK_SORT	33672747000
+SPILL	SORT_COUNT	1164511
+SPILL	COMBINE	0
+SPILL	WRITE	33500551000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	41195338
+SPILL	COMPRESS_BYTE_COUNT	11925169
+MERGE	TOTAL_MERGE	1636000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	97717220000
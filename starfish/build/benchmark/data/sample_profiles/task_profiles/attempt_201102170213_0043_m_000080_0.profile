@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00096	0
+MAP	STARTUP_MEM	216103800
+MAP	SETUP	533000
+MAP	SETUP_MEM	216103800
+MAP	CLEANUP	102000
+MAP	CLEANUP_MEM	237403576
+MAP	TOTAL_RUN	27400547000
+MAP	READ	10840747000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	722211
+MAP	VALUE_BYTE_COUNT	268116378
+MAP	MAP	16120417000
+MAP	WRITE	6467278000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	996471000
+MAP	SERIALIZE_OUTPUT	2488178000
+MAP	MAP_MEM	238259216
+SPILL	SORT_AND_SPILL	38197941000
+SPILL	QUICK_SORT	27599003000
+SPILL	SORT_COUNT	1145764
+SPILL	COMBINE	0
+SPILL	WRITE	10598938000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	40738170
+SPILL	COMPRESS_BYTE_COUNT	11906992
+MERGE	TOTAL_MERGE	1530000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	66128777000
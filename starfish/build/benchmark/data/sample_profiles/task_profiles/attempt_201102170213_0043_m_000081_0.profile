@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00084	0
+MAP	STARTUP_MEM	214440144
+MAP	SETUP	666000
+MAP	SETUP_MEM	214440144
+MAP	CLEANUP	97000
+MAP	CLEANUP_MEM	239461080
+MAP	TOTAL_RUN	32139346000
+MAP	READ	13004106000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	725991
+MAP	VALUE_BYTE_COUNT	268093552
+MAP	MAP	18650476000
+MAP	WRITE	9303165000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1350231000
+MAP	SERIALIZE_OUTPUT	3165213000
+MAP	MAP_MEM	239461080
+SPILL	SORT_AND_SPILL	38321750000
+SPILL	QUICK_SORT	25437619000
+SPILL	SORT_COUNT	1330856
+SPILL	COMBINE	0
+SPILL	WRITE	12884131000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	46083955
+SPILL	COMPRESS_BYTE_COUNT	12903071
+MERGE	TOTAL_MERGE	1629000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	71045837000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00063	0
+MAP	STARTUP_MEM	216119472
+MAP	SETUP	447000
+MAP	SETUP_MEM	216119472
+MAP	CLEANUP	103000
+MAP	CLEANUP_MEM	217706744
+MAP	TOTAL_RUN	38964846000
+MAP	READ	14934722000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	797426
+MAP	VALUE_BYTE_COUNT	268059466
+MAP	MAP	23630775000
+MAP	WRITE	10294057000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	2050937000
+MAP	SERIALIZE_OUTPUT	2972209000
+MAP	MAP_MEM	217706744
+SPILL	SORT_AND_SPILL	62397700000
+SPILL	QUICK_SORT	45258361000
+SPILL	SORT_COUNT	1256758
+SPILL	COMBINE	0
+SPILL	WRITE	17139339000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	44565442
+SPILL	COMPRESS_BYTE_COUNT	13132584
+MERGE	TOTAL_MERGE	1415000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	103962988000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00095	0
+MAP	STARTUP_MEM	216322192
+MAP	SETUP	489000
+MAP	SETUP_MEM	216322192
+MAP	CLEANUP	100000
+MAP	CLEANUP_MEM	217932704
+MAP	TOTAL_RUN	29547762000
+MAP	READ	12233203000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	694092
+MAP	VALUE_BYTE_COUNT	268148955
+MAP	MAP	16974076000
+MAP	WRITE	6942055000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1124490000
+MAP	SERIALIZE_OUTPUT	3102535000
+MAP	MAP_MEM	217932704
+SPILL	SORT_AND_SPILL	46167153000
+SPILL	QUICK_SORT	30090578000
+SPILL	SORT_COUNT	1279582
+SPILL	COMBINE	0
+SPILL	WRITE	16076575000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	44886005
+SPILL	COMPRESS_BYTE_COUNT	12988529
+MERGE	TOTAL_MERGE	1682000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	76747977000
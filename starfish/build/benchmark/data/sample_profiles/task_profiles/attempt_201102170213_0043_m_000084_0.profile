@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00105	0
+MAP	STARTUP_MEM	216337512
+MAP	SETUP	504000
+MAP	SETUP_MEM	216337512
+MAP	CLEANUP	98000
+MAP	CLEANUP_MEM	236902120
+MAP	TOTAL_RUN	31870840000
+MAP	READ	14682908000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	913664
+MAP	VALUE_BYTE_COUNT	268089495
+MAP	MAP	16640327000
+MAP	WRITE	6896991000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1101071000
+MAP	SERIALIZE_OUTPUT	2712333000
+MAP	MAP_MEM	236902120
+SPILL	SORT_AND_SPILL	42536572000
+SPILL	QUICK_SORT	27786204000
+SPILL	SORT_COUNT	1205161
+SPILL	COMBINE	0
+SPILL	WRITE	14750368000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	43082359
+SPILL	COMPRESS_BYTE_COUNT	12340654
+MERGE	TOTAL_MERGE	1592000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	75316897000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00081	0
+MAP	STARTUP_MEM	214445720
+MAP	SETUP	577000
+MAP	SETUP_MEM	215301360
+MAP	CLEANUP	107000
+MAP	CLEANUP_MEM	225252640
+MAP	TOTAL_RUN	29652743666
+MAP	READ	10785573000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	720643
+MAP	VALUE_BYTE_COUNT	268093743
+MAP	MAP	18330627666
+MAP	WRITE	7424099000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1201503000
+MAP	SERIALIZE_OUTPUT	2744623000
+MAP	MAP_MEM	225252640
+SPILL	SORT_AND_SPILL	60453539211
+SPILL	QUICK_SORT	28416650000
+SPILL	SORT_COUNT	1137982
+SPILL	COMBINE	0
+SPILL	WRITE	32036889211
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	39867649
+SPILL	COMPRESS_BYTE_COUNT	11774478
+MERGE	TOTAL_MERGE	1966000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	91401856877
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00076	0
+MAP	STARTUP_MEM	215514136
+MAP	SETUP	455000
+MAP	SETUP_MEM	215514136
+MAP	CLEANUP	103000
+MAP	CLEANUP_MEM	215792968
+MAP	TOTAL_RUN	28353491000
+MAP	READ	10566928000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	769951
+MAP	VALUE_BYTE_COUNT	268121279
+MAP	MAP	17372357000
+MAP	WRITE	7047726000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1231661000
+MAP	SERIALIZE_OUTPUT	3041281000
+MAP	MAP_MEM	216355128
+SPILL	SORT_AND_SPILL	49065302000
+SPILL	QUICK_SORT	30155045000
+SPILL	SORT_COUNT	1340104
+SPILL	COMBINE	0
+SPILL	WRITE	18910257000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	46894033
+SPILL	COMPRESS_BYTE_COUNT	13141825
+MERGE	TOTAL_MERGE	1470000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	77939019000
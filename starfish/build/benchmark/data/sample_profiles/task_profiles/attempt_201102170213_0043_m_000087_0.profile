@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00059	0
+MAP	STARTUP_MEM	215272320
+MAP	SETUP	571000
+MAP	SETUP_MEM	215272320
+MAP	CLEANUP	113000
+MAP	CLEANUP_MEM	242397504
+MAP	TOTAL_RUN	31669983666
+MAP	READ	11628280666
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	733411
+MAP	VALUE_BYTE_COUNT	268132555
+MAP	MAP	19500045000
+MAP	WRITE	8514429000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1614447000
+MAP	SERIALIZE_OUTPUT	3200745000
+MAP	MAP_MEM	242397504
+SPILL	SORT_AND_SPILL	60359712211
+SPILL	QUICK_SORT	35527309211
+SPILL	SORT_COUNT	1284128
+SPILL	COMBINE	0
+SPILL	WRITE	24832403000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	44095898
+SPILL	COMPRESS_BYTE_COUNT	12413892
+MERGE	TOTAL_MERGE	2078000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	92993387877
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00074	0
+MAP	STARTUP_MEM	216358784
+MAP	SETUP	488000
+MAP	SETUP_MEM	216358784
+MAP	CLEANUP	100000
+MAP	CLEANUP_MEM	231250384
+MAP	TOTAL_RUN	33440996000
+MAP	READ	12010820000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	782530
+MAP	VALUE_BYTE_COUNT	268180264
+MAP	MAP	20944078000
+MAP	WRITE	8409542000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1405207000
+MAP	SERIALIZE_OUTPUT	3214919000
+MAP	MAP_MEM	231250384
+SPILL	SORT_AND_SPILL	80812412000
+SPILL	QUICK_SORT	44060764000
+SPILL	SORT_COUNT	1380772
+SPILL	COMBINE	0
+SPILL	WRITE	36751648000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	48693980
+SPILL	COMPRESS_BYTE_COUNT	14013506
+MERGE	TOTAL_MERGE	1684000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	114736630000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00091	0
+MAP	STARTUP_MEM	214704488
+MAP	SETUP	458000
+MAP	SETUP_MEM	214704488
+MAP	CLEANUP	115000
+MAP	CLEANUP_MEM	238714000
+MAP	TOTAL_RUN	29641971000
+MAP	READ	11670975000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	758114
+MAP	VALUE_BYTE_COUNT	268108173
+MAP	MAP	17527350000
+MAP	WRITE	7482716000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1322436000
+MAP	SERIALIZE_OUTPUT	3041927000
+MAP	MAP_MEM	238714000
+SPILL	SORT_AND_SPILL	47455907000
+SPILL	QUICK_SORT	31148459000
+SPILL	SORT_COUNT	1358726
+SPILL	COMBINE	0
+SPILL	WRITE	16307448000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	48315153
+SPILL	COMPRESS_BYTE_COUNT	14309059
+MERGE	TOTAL_MERGE	1542000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	81050505000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00092	0
+MAP	STARTUP_MEM	214653432
+MAP	SETUP	421000
+MAP	SETUP_MEM	214653432
+MAP	CLEANUP	104000
+MAP	CLEANUP_MEM	234777928
+MAP	TOTAL_RUN	28144144000
+MAP	READ	12205570000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	744443
+MAP	VALUE_BYTE_COUNT	268206236
+MAP	MAP	15569899000
+MAP	WRITE	7113212000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1088492000
+MAP	SERIALIZE_OUTPUT	2720068000
+MAP	MAP_MEM	234777928
+SPILL	SORT_AND_SPILL	39932164000
+SPILL	QUICK_SORT	26290770000
+SPILL	SORT_COUNT	1242596
+SPILL	COMBINE	0
+SPILL	WRITE	13641394000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	43584032
+SPILL	COMPRESS_BYTE_COUNT	12802011
+MERGE	TOTAL_MERGE	1552000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	70825616000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00070	0
+MAP	STARTUP_MEM	215308664
+MAP	SETUP	576000
+MAP	SETUP_MEM	215308664
+MAP	CLEANUP	106000
+MAP	CLEANUP_MEM	238356016
+MAP	TOTAL_RUN	32404019000
+MAP	READ	11142767000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	1052709
+MAP	VALUE_BYTE_COUNT	267970266
+MAP	MAP	20607857000
+MAP	WRITE	8894508000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1603851000
+MAP	SERIALIZE_OUTPUT	3379262000
+MAP	MAP_MEM	238356016
+SPILL	SORT_AND_SPILL	56051053760
+SPILL	QUICK_SORT	31997834760
+SPILL	SORT_COUNT	1356604
+SPILL	COMBINE	0
+SPILL	WRITE	24053219000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	47834753
+SPILL	COMPRESS_BYTE_COUNT	14642518
+MERGE	TOTAL_MERGE	1859000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	89154499537
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00086	0
+MAP	STARTUP_MEM	215274736
+MAP	SETUP	490000
+MAP	SETUP_MEM	215274736
+MAP	CLEANUP	94000
+MAP	CLEANUP_MEM	241180736
+MAP	TOTAL_RUN	45687048000
+MAP	READ	20649001000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	799631
+MAP	VALUE_BYTE_COUNT	268486458
+MAP	MAP	23500409000
+MAP	WRITE	11946364000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1989397000
+MAP	SERIALIZE_OUTPUT	3036384000
+MAP	MAP_MEM	241180736
+SPILL	SORT_AND_SPILL	44624293487
+SPILL	QUICK_SORT	23689092000
+SPILL	SORT_COUNT	1231890
+SPILL	COMBINE	0
+SPILL	WRITE	20935201487
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	42233174
+SPILL	COMPRESS_BYTE_COUNT	12424797
+MERGE	TOTAL_MERGE	1557000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	92143206487
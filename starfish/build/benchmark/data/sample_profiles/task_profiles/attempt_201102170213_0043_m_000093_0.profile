@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00101	0
+MAP	STARTUP_MEM	214459488
+MAP	SETUP	463000
+MAP	SETUP_MEM	214459488
+MAP	CLEANUP	103000
+MAP	CLEANUP_MEM	244428816
+MAP	TOTAL_RUN	36069459000
+MAP	READ	13380895000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	841960
+MAP	VALUE_BYTE_COUNT	268012521
+MAP	MAP	22094818000
+MAP	WRITE	11308068000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1167259000
+MAP	SERIALIZE_OUTPUT	7426523000
+MAP	MAP_MEM	244428816
+SPILL	SORT_AND_SPILL	55812559000
+SPILL	QUICK_SORT	42319804000
+SPILL	SORT_COUNT	1268218
+SPILL	COMBINE	0
+SPILL	WRITE	13492755000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	44021731
+SPILL	COMPRESS_BYTE_COUNT	12556824
+MERGE	TOTAL_MERGE	1469000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	92642423000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00067	0
+MAP	STARTUP_MEM	216393488
+MAP	SETUP	483000
+MAP	SETUP_MEM	216393488
+MAP	CLEANUP	95000
+MAP	CLEANUP_MEM	245192048
+MAP	TOTAL_RUN	39085772000
+MAP	READ	14428328000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	716982
+MAP	VALUE_BYTE_COUNT	268158772
+MAP	MAP	24164966000
+MAP	WRITE	7395457000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	976253000
+MAP	SERIALIZE_OUTPUT	2984914000
+MAP	MAP_MEM	245192048
+SPILL	SORT_AND_SPILL	57606614000
+SPILL	QUICK_SORT	33728735000
+SPILL	SORT_COUNT	1144612
+SPILL	COMBINE	0
+SPILL	WRITE	23877879000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	40320418
+SPILL	COMPRESS_BYTE_COUNT	11497392
+MERGE	TOTAL_MERGE	1565000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	99651286000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00097	0
+MAP	STARTUP_MEM	215288776
+MAP	SETUP	519000
+MAP	SETUP_MEM	215288776
+MAP	CLEANUP	99000
+MAP	CLEANUP_MEM	233749880
+MAP	TOTAL_RUN	44844159152
+MAP	READ	14187804152
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	774704
+MAP	VALUE_BYTE_COUNT	268103289
+MAP	MAP	29892014000
+MAP	WRITE	15136922000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	2434119000
+MAP	SERIALIZE_OUTPUT	5357068000
+MAP	MAP_MEM	233749880
+SPILL	SORT_AND_SPILL	48328138000
+SPILL	QUICK_SORT	26875785000
+SPILL	SORT_COUNT	1217975
+SPILL	COMBINE	0
+SPILL	WRITE	21452353000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	43630847
+SPILL	COMPRESS_BYTE_COUNT	12728526
+MERGE	TOTAL_MERGE	2001000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	94250540152
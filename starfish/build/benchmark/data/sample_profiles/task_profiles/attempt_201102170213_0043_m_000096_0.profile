@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00104	0
+MAP	STARTUP_MEM	216142624
+MAP	SETUP	495000
+MAP	SETUP_MEM	216142624
+MAP	CLEANUP	95000
+MAP	CLEANUP_MEM	240409904
+MAP	TOTAL_RUN	50046549000
+MAP	READ	18116731000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	908613
+MAP	VALUE_BYTE_COUNT	267179594
+MAP	MAP	31417099000
+MAP	WRITE	17930294000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1125760000
+MAP	SERIALIZE_OUTPUT	4901797000
+MAP	MAP_MEM	240409904
+SPILL	SORT_AND_SPILL	45939290000
+SPILL	QUICK_SORT	27325661000
+SPILL	SORT_COUNT	1182079
+SPILL	COMBINE	0
+SPILL	WRITE	18613629000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	42024434
+SPILL	COMPRESS_BYTE_COUNT	12008511
+MERGE	TOTAL_MERGE	1619000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	99161861000
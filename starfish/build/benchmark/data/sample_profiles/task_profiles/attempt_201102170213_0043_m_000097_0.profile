@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00069	0
+MAP	STARTUP_MEM	215312160
+MAP	SETUP	423000
+MAP	SETUP_MEM	215312160
+MAP	CLEANUP	103000
+MAP	CLEANUP_MEM	229342992
+MAP	TOTAL_RUN	40905157000
+MAP	READ	17585281000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	1113889
+MAP	VALUE_BYTE_COUNT	267972223
+MAP	MAP	22624312000
+MAP	WRITE	12561485000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	2703886000
+MAP	SERIALIZE_OUTPUT	6134986000
+MAP	MAP_MEM	229905152
+SPILL	SORT_AND_SPILL	51722849000
+SPILL	QUICK_SORT	32349462000
+SPILL	SORT_COUNT	1339573
+SPILL	COMBINE	0
+SPILL	WRITE	19373387000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	47744003
+SPILL	COMPRESS_BYTE_COUNT	14540255
+MERGE	TOTAL_MERGE	1703000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	94767564000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00103	0
+MAP	STARTUP_MEM	216344176
+MAP	SETUP	20636000
+MAP	SETUP_MEM	216344176
+MAP	CLEANUP	103000
+MAP	CLEANUP_MEM	231535768
+MAP	TOTAL_RUN	53007816000
+MAP	READ	19164623000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	866467
+MAP	VALUE_BYTE_COUNT	268946290
+MAP	MAP	33373859000
+MAP	WRITE	17561439000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	4601110000
+MAP	SERIALIZE_OUTPUT	5071039000
+MAP	MAP_MEM	231535768
+SPILL	SORT_AND_SPILL	65898650000
+SPILL	QUICK_SORT	44328194000
+SPILL	SORT_COUNT	1220837
+SPILL	COMBINE	0
+SPILL	WRITE	21570456000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	44718967
+SPILL	COMPRESS_BYTE_COUNT	12819770
+MERGE	TOTAL_MERGE	1408000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	119618931527
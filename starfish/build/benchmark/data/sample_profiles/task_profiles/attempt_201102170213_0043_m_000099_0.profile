@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00085	0
+MAP	STARTUP_MEM	215468752
+MAP	SETUP	465000
+MAP	SETUP_MEM	215468752
+MAP	CLEANUP	95000
+MAP	CLEANUP_MEM	237434360
+MAP	TOTAL_RUN	34199824000
+MAP	READ	11622372000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	745003
+MAP	VALUE_BYTE_COUNT	268116533
+MAP	MAP	22184930000
+MAP	WRITE	11330118000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	2216666000
+MAP	SERIALIZE_OUTPUT	4328416000
+MAP	MAP_MEM	237434360
+SPILL	SORT_AND_SPILL	49192148000
+SPILL	QUICK_SORT	24564320000
+SPILL	SORT_COUNT	1339130
+SPILL	COMBINE	0
+SPILL	WRITE	24627828000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	47039211
+SPILL	COMPRESS_BYTE_COUNT	12870433
+MERGE	TOTAL_MERGE	1618000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	85214607000
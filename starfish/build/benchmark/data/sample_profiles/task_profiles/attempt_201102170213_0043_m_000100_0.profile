@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00065	0
+MAP	STARTUP_MEM	216144984
+MAP	SETUP	516000
+MAP	SETUP_MEM	216144984
+MAP	CLEANUP	98000
+MAP	CLEANUP_MEM	240363136
+MAP	TOTAL_RUN	39745067000
+MAP	READ	18932806000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	789173
+MAP	VALUE_BYTE_COUNT	268099703
+MAP	MAP	20404897000
+MAP	WRITE	9725440000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	2889782000
+MAP	SERIALIZE_OUTPUT	3451563000
+MAP	MAP_MEM	240363136
+SPILL	SORT_AND_SPILL	61329959487
+SPILL	QUICK_SORT	40373323487
+SPILL	SORT_COUNT	1167796
+SPILL	COMBINE	0
+SPILL	WRITE	20956636000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	40980611
+SPILL	COMPRESS_BYTE_COUNT	12047919
+MERGE	TOTAL_MERGE	1586000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	104895366487
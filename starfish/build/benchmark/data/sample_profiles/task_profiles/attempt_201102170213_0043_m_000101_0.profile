@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00079	0
+MAP	STARTUP_MEM	214715096
+MAP	SETUP	421000
+MAP	SETUP_MEM	214715096
+MAP	CLEANUP	102000
+MAP	CLEANUP_MEM	233464632
+MAP	TOTAL_RUN	40413534000
+MAP	READ	14979873000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	906899
+MAP	VALUE_BYTE_COUNT	268069235
+MAP	MAP	24922654000
+MAP	WRITE	12399040000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	2005174000
+MAP	SERIALIZE_OUTPUT	4908385000
+MAP	MAP_MEM	233464632
+SPILL	SORT_AND_SPILL	82546494000
+SPILL	QUICK_SORT	48237716000
+SPILL	SORT_COUNT	1385715
+SPILL	COMBINE	0
+SPILL	WRITE	34308778000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	48002055
+SPILL	COMPRESS_BYTE_COUNT	13336436
+MERGE	TOTAL_MERGE	1958000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	123424255000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00090	0
+MAP	STARTUP_MEM	215261200
+MAP	SETUP	471000
+MAP	SETUP_MEM	215261200
+MAP	CLEANUP	95000
+MAP	CLEANUP_MEM	222764672
+MAP	TOTAL_RUN	61889792000
+MAP	READ	22416639000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	919058
+MAP	VALUE_BYTE_COUNT	267947970
+MAP	MAP	38989641000
+MAP	WRITE	18487164000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	8318103000
+MAP	SERIALIZE_OUTPUT	3184901000
+MAP	MAP_MEM	222764672
+SPILL	SORT_AND_SPILL	70377930000
+SPILL	QUICK_SORT	41688331000
+SPILL	SORT_COUNT	1340078
+SPILL	COMBINE	0
+SPILL	WRITE	28689599000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	48684818
+SPILL	COMPRESS_BYTE_COUNT	14287004
+MERGE	TOTAL_MERGE	1624000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	132714876000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00102	0
+MAP	STARTUP_MEM	216396672
+MAP	SETUP	505000
+MAP	SETUP_MEM	216396672
+MAP	CLEANUP	98000
+MAP	CLEANUP_MEM	218019864
+MAP	TOTAL_RUN	42812474000
+MAP	READ	14253353000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	839783
+MAP	VALUE_BYTE_COUNT	268077335
+MAP	MAP	28141529000
+MAP	WRITE	17451797000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	3185116000
+MAP	SERIALIZE_OUTPUT	4513373000
+MAP	MAP_MEM	218019864
+SPILL	SORT_AND_SPILL	71013707000
+SPILL	QUICK_SORT	36839624000
+SPILL	SORT_COUNT	1265476
+SPILL	COMBINE	0
+SPILL	WRITE	34174083000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	45276343
+SPILL	COMPRESS_BYTE_COUNT	12824390
+MERGE	TOTAL_MERGE	1405000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	115124917527
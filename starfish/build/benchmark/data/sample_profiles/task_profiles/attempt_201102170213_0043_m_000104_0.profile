@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00056	0
+MAP	STARTUP_MEM	214663784
+MAP	SETUP	444000
+MAP	SETUP_MEM	214663784
+MAP	CLEANUP	129000
+MAP	CLEANUP_MEM	237697368
+MAP	TOTAL_RUN	47282819000
+MAP	READ	23182214000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	609168
+MAP	VALUE_BYTE_COUNT	268231350
+MAP	MAP	23743394000
+MAP	WRITE	12091919000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1358656000
+MAP	SERIALIZE_OUTPUT	4578133000
+MAP	MAP_MEM	237697368
+SPILL	SORT_AND_SPILL	51486903000
+SPILL	QUICK_SORT	34368094000
+SPILL	SORT_COUNT	1280196
+SPILL	COMBINE	0
+SPILL	WRITE	17118809000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	43968071
+SPILL	COMPRESS_BYTE_COUNT	13396214
+MERGE	TOTAL_MERGE	1636000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	100310157000
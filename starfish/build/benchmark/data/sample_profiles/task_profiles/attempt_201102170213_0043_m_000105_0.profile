@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00107	0
+MAP	STARTUP_MEM	215303064
+MAP	SETUP	499000
+MAP	SETUP_MEM	215303064
+MAP	CLEANUP	136000
+MAP	CLEANUP_MEM	228536152
+MAP	TOTAL_RUN	34734049000
+MAP	READ	13425166000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	878928
+MAP	VALUE_BYTE_COUNT	268105023
+MAP	MAP	20609663000
+MAP	WRITE	9457759000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1579570000
+MAP	SERIALIZE_OUTPUT	2970648000
+MAP	MAP_MEM	228536152
+SPILL	SORT_AND_SPILL	46808992317
+SPILL	QUICK_SORT	26149324317
+SPILL	SORT_COUNT	1087629
+SPILL	COMBINE	0
+SPILL	WRITE	20659668000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	38673361
+SPILL	COMPRESS_BYTE_COUNT	11467189
+MERGE	TOTAL_MERGE	1487000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	82136190317
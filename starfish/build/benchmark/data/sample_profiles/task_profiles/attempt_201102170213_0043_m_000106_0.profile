@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00004	0
+MAP	STARTUP_MEM	216093944
+MAP	SETUP	476000
+MAP	SETUP_MEM	216093944
+MAP	CLEANUP	101000
+MAP	CLEANUP_MEM	227974392
+MAP	TOTAL_RUN	50333865000
+MAP	READ	14860319000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	169881
+MAP	VALUE_BYTE_COUNT	268344822
+MAP	MAP	35264688000
+MAP	WRITE	21167376000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	2177906000
+MAP	SERIALIZE_OUTPUT	10880389000
+MAP	MAP_MEM	227974392
+SPILL	SORT_AND_SPILL	62872653000
+SPILL	QUICK_SORT	35307968000
+SPILL	SORT_COUNT	1517137
+SPILL	COMBINE	0
+SPILL	WRITE	27564685000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	51047036
+SPILL	COMPRESS_BYTE_COUNT	9748246
+MERGE	TOTAL_MERGE	1617000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	116035371000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00106	0
+MAP	STARTUP_MEM	216330120
+MAP	SETUP	463000
+MAP	SETUP_MEM	216330120
+MAP	CLEANUP	98000
+MAP	CLEANUP_MEM	216781888
+MAP	TOTAL_RUN	40317420000
+MAP	READ	14537430000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	1344488
+MAP	VALUE_BYTE_COUNT	267930503
+MAP	MAP	24653150000
+MAP	WRITE	8330569000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1042182000
+MAP	SERIALIZE_OUTPUT	2607245000
+MAP	MAP_MEM	216781888
+SPILL	SORT_AND_SPILL	65347636000
+SPILL	QUICK_SORT	38285766000
+SPILL	SORT_COUNT	1161314
+SPILL	COMBINE	0
+SPILL	WRITE	27061870000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	42404612
+SPILL	COMPRESS_BYTE_COUNT	12397209
+MERGE	TOTAL_MERGE	1678000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	114747321000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00005	0
+MAP	STARTUP_MEM	216126248
+MAP	SETUP	529000
+MAP	SETUP_MEM	216126248
+MAP	CLEANUP	59000
+MAP	CLEANUP_MEM	229937112
+MAP	TOTAL_RUN	17157858000
+MAP	READ	6406459000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	48900
+MAP	VALUE_BYTE_COUNT	134199589
+MAP	MAP	10696583000
+MAP	WRITE	5131461000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	811043000
+MAP	SERIALIZE_OUTPUT	1761482000
+MAP	MAP_MEM	229937112
+SPILL	SORT_AND_SPILL	26655756000
+SPILL	QUICK_SORT	14955136000
+SPILL	SORT_COUNT	779429
+SPILL	COMBINE	0
+SPILL	WRITE	11700620000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	23072174
+SPILL	COMPRESS_BYTE_COUNT	6657165
+MERGE	TOTAL_MERGE	1735000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	45218793000
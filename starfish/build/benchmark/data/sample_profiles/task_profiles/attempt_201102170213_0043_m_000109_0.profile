@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00001	0
+MAP	STARTUP_MEM	214447584
+MAP	SETUP	422000
+MAP	SETUP_MEM	214447584
+MAP	CLEANUP	63000
+MAP	CLEANUP_MEM	216926648
+MAP	TOTAL_RUN	25533963000
+MAP	READ	7592801000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	26933
+MAP	VALUE_BYTE_COUNT	134325818
+MAP	MAP	17904035000
+MAP	WRITE	10007970000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	643000000
+MAP	SERIALIZE_OUTPUT	3212770000
+MAP	MAP_MEM	216926648
+SPILL	SORT_AND_SPILL	31353190000
+SPILL	QUICK_SORT	14830827000
+SPILL	SORT_COUNT	776439
+SPILL	COMBINE	0
+SPILL	WRITE	16522363000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	21773335
+SPILL	COMPRESS_BYTE_COUNT	6451163
+MERGE	TOTAL_MERGE	1677000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	58705048000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00002	0
+MAP	STARTUP_MEM	214437008
+MAP	SETUP	528000
+MAP	SETUP_MEM	214437008
+MAP	CLEANUP	64000
+MAP	CLEANUP_MEM	237577928
+MAP	TOTAL_RUN	32815865152
+MAP	READ	8832477152
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	30421
+MAP	VALUE_BYTE_COUNT	134088305
+MAP	MAP	23935044000
+MAP	WRITE	14830670000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1481239000
+MAP	SERIALIZE_OUTPUT	4786275000
+MAP	MAP_MEM	237577928
+SPILL	SORT_AND_SPILL	49766711000
+SPILL	QUICK_SORT	28142418000
+SPILL	SORT_COUNT	814114
+SPILL	COMBINE	0
+SPILL	WRITE	21624293000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	23492621
+SPILL	COMPRESS_BYTE_COUNT	6612197
+MERGE	TOTAL_MERGE	105583000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	83386711152
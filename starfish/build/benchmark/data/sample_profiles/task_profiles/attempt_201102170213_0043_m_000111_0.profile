@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00003	0
+MAP	STARTUP_MEM	214719424
+MAP	SETUP	417000
+MAP	SETUP_MEM	214719424
+MAP	CLEANUP	57000
+MAP	CLEANUP_MEM	228080544
+MAP	TOTAL_RUN	14523501000
+MAP	READ	5657565000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	34145
+MAP	VALUE_BYTE_COUNT	134204333
+MAP	MAP	8831833000
+MAP	WRITE	4546605000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	779100000
+MAP	SERIALIZE_OUTPUT	1608893000
+MAP	MAP_MEM	228080544
+SPILL	SORT_AND_SPILL	20948923000
+SPILL	QUICK_SORT	13064345000
+SPILL	SORT_COUNT	785313
+SPILL	COMBINE	0
+SPILL	WRITE	7884578000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	22775146
+SPILL	COMPRESS_BYTE_COUNT	6383063
+MERGE	TOTAL_MERGE	64990000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	36926207000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00006	0
+MAP	STARTUP_MEM	214426136
+MAP	SETUP	415000
+MAP	SETUP_MEM	214426136
+MAP	CLEANUP	63000
+MAP	CLEANUP_MEM	220224872
+MAP	TOTAL_RUN	26737250000
+MAP	READ	10132668000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	58775
+MAP	VALUE_BYTE_COUNT	134176467
+MAP	MAP	16550916000
+MAP	WRITE	6604842000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	801939000
+MAP	SERIALIZE_OUTPUT	1800239000
+MAP	MAP_MEM	220787032
+SPILL	SORT_AND_SPILL	49131521000
+SPILL	QUICK_SORT	21086596000
+SPILL	SORT_COUNT	837210
+SPILL	COMBINE	0
+SPILL	WRITE	28044925000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	24929646
+SPILL	COMPRESS_BYTE_COUNT	7195728
+MERGE	TOTAL_MERGE	8984000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	76304284000
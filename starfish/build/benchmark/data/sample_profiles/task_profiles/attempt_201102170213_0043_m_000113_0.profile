@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00004	0
+MAP	STARTUP_MEM	214458000
+MAP	SETUP	416000
+MAP	SETUP_MEM	214458000
+MAP	CLEANUP	59000
+MAP	CLEANUP_MEM	228157456
+MAP	TOTAL_RUN	27565266000
+MAP	READ	7938805000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	47935
+MAP	VALUE_BYTE_COUNT	134161048
+MAP	MAP	19579915000
+MAP	WRITE	10741108000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	2372104000
+MAP	SERIALIZE_OUTPUT	2047206000
+MAP	MAP_MEM	229013096
+SPILL	SORT_AND_SPILL	28242244000
+SPILL	QUICK_SORT	16127465000
+SPILL	SORT_COUNT	941898
+SPILL	COMBINE	0
+SPILL	WRITE	12114779000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	26834740
+SPILL	COMPRESS_BYTE_COUNT	7167576
+MERGE	TOTAL_MERGE	1429000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	62228328000
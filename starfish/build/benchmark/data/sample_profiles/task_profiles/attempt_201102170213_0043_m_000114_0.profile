@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00012	0
+MAP	STARTUP_MEM	214724744
+MAP	SETUP	450000
+MAP	SETUP_MEM	214724744
+MAP	CLEANUP	96000
+MAP	CLEANUP_MEM	227235760
+MAP	TOTAL_RUN	25832357000
+MAP	READ	7339017000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	92370
+MAP	VALUE_BYTE_COUNT	134163611
+MAP	MAP	15352616000
+MAP	WRITE	7221710000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	828365000
+MAP	SERIALIZE_OUTPUT	4510818000
+MAP	MAP_MEM	227235760
+SPILL	SORT_AND_SPILL	51803558000
+SPILL	QUICK_SORT	24772791000
+SPILL	SORT_COUNT	845318
+SPILL	COMBINE	0
+SPILL	WRITE	27030767000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	25913267
+SPILL	COMPRESS_BYTE_COUNT	7544438
+MERGE	TOTAL_MERGE	1939000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	79784470000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00011	0
+MAP	STARTUP_MEM	215268936
+MAP	SETUP	521000
+MAP	SETUP_MEM	215268936
+MAP	CLEANUP	67000
+MAP	CLEANUP_MEM	227852768
+MAP	TOTAL_RUN	20569115000
+MAP	READ	6466090000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	79980
+MAP	VALUE_BYTE_COUNT	134180460
+MAP	MAP	13968072000
+MAP	WRITE	7402244000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1043904000
+MAP	SERIALIZE_OUTPUT	2475755000
+MAP	MAP_MEM	227852768
+SPILL	SORT_AND_SPILL	43681878970
+SPILL	QUICK_SORT	20133680970
+SPILL	SORT_COUNT	944056
+SPILL	COMBINE	0
+SPILL	WRITE	23548198000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	28899731
+SPILL	COMPRESS_BYTE_COUNT	7960183
+MERGE	TOTAL_MERGE	1831000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	64921397970
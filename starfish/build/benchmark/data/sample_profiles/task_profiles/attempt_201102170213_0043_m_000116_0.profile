@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00016	0
+MAP	STARTUP_MEM	214637016
+MAP	SETUP	426000
+MAP	SETUP_MEM	214637016
+MAP	CLEANUP	67000
+MAP	CLEANUP_MEM	226122024
+MAP	TOTAL_RUN	28352335000
+MAP	READ	16547439000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	111750
+MAP	VALUE_BYTE_COUNT	134149044
+MAP	MAP	11725513000
+MAP	WRITE	5045876000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	744454000
+MAP	SERIALIZE_OUTPUT	1833994000
+MAP	MAP_MEM	226122024
+SPILL	SORT_AND_SPILL	45490968000
+SPILL	QUICK_SORT	23920169000
+SPILL	SORT_COUNT	850362
+SPILL	COMBINE	0
+SPILL	WRITE	21570799000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	26265827
+SPILL	COMPRESS_BYTE_COUNT	7746032
+MERGE	TOTAL_MERGE	1642000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	76041685000
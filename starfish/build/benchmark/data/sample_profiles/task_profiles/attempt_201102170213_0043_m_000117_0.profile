@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00014	0
+MAP	STARTUP_MEM	214439368
+MAP	SETUP	502000
+MAP	SETUP_MEM	214439368
+MAP	CLEANUP	139000
+MAP	CLEANUP_MEM	224570416
+MAP	TOTAL_RUN	23704414000
+MAP	READ	9257743000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	102516
+MAP	VALUE_BYTE_COUNT	134138055
+MAP	MAP	14245212000
+MAP	WRITE	6985323000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	990847000
+MAP	SERIALIZE_OUTPUT	2580816000
+MAP	MAP_MEM	224570416
+SPILL	SORT_AND_SPILL	41535304970
+SPILL	QUICK_SORT	27975915970
+SPILL	SORT_COUNT	846969
+SPILL	COMBINE	0
+SPILL	WRITE	13559389000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	26046035
+SPILL	COMPRESS_BYTE_COUNT	7654558
+MERGE	TOTAL_MERGE	38868000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	67668071970
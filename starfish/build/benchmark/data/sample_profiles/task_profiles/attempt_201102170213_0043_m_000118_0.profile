@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00013	0
+MAP	STARTUP_MEM	214431560
+MAP	SETUP	443000
+MAP	SETUP_MEM	214431560
+MAP	CLEANUP	104000
+MAP	CLEANUP_MEM	243761072
+MAP	TOTAL_RUN	19686932000
+MAP	READ	6918911000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	103830
+MAP	VALUE_BYTE_COUNT	134198389
+MAP	MAP	12675509000
+MAP	WRITE	6711059000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1113219000
+MAP	SERIALIZE_OUTPUT	2196866000
+MAP	MAP_MEM	244323232
+SPILL	SORT_AND_SPILL	28792730317
+SPILL	QUICK_SORT	19493545317
+SPILL	SORT_COUNT	891318
+SPILL	COMBINE	0
+SPILL	WRITE	9299185000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	27514537
+SPILL	COMPRESS_BYTE_COUNT	7936555
+MERGE	TOTAL_MERGE	1560000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	49178499317
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00018	0
+MAP	STARTUP_MEM	215293928
+MAP	SETUP	814000
+MAP	SETUP_MEM	215293928
+MAP	CLEANUP	97000
+MAP	CLEANUP_MEM	239293120
+MAP	TOTAL_RUN	26543117000
+MAP	READ	8706461000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	135774
+MAP	VALUE_BYTE_COUNT	134091423
+MAP	MAP	17743177000
+MAP	WRITE	8288671000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	2853630000
+MAP	SERIALIZE_OUTPUT	1919170000
+MAP	MAP_MEM	239855280
+SPILL	SORT_AND_SPILL	35264028000
+SPILL	QUICK_SORT	19077043000
+SPILL	SORT_COUNT	857878
+SPILL	COMBINE	0
+SPILL	WRITE	16186985000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	26787725
+SPILL	COMPRESS_BYTE_COUNT	7913417
+MERGE	TOTAL_MERGE	1660000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	63270428000
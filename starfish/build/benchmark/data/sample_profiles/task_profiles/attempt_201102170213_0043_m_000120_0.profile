@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00017	0
+MAP	STARTUP_MEM	215344456
+MAP	SETUP	547000
+MAP	SETUP_MEM	215344456
+MAP	CLEANUP	63000
+MAP	CLEANUP_MEM	245461536
+MAP	TOTAL_RUN	37843396000
+MAP	READ	13738626000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	126354
+MAP	VALUE_BYTE_COUNT	134221916
+MAP	MAP	23829353000
+MAP	WRITE	11376328000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	2378323000
+MAP	SERIALIZE_OUTPUT	3908521000
+MAP	MAP_MEM	245461536
+SPILL	SORT_AND_SPILL	37347733000
+SPILL	QUICK_SORT	18710494000
+SPILL	SORT_COUNT	884278
+SPILL	COMBINE	0
+SPILL	WRITE	18637239000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	27320797
+SPILL	COMPRESS_BYTE_COUNT	7917266
+MERGE	TOTAL_MERGE	1586000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	76906773000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00019	0
+MAP	STARTUP_MEM	214434328
+MAP	SETUP	423000
+MAP	SETUP_MEM	214434328
+MAP	CLEANUP	60000
+MAP	CLEANUP_MEM	245057352
+MAP	TOTAL_RUN	29431699000
+MAP	READ	15039772000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	127884
+MAP	VALUE_BYTE_COUNT	134148666
+MAP	MAP	14304811000
+MAP	WRITE	8151378000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	771496000
+MAP	SERIALIZE_OUTPUT	4458355000
+MAP	MAP_MEM	245057352
+SPILL	SORT_AND_SPILL	26575528000
+SPILL	QUICK_SORT	15927851000
+SPILL	SORT_COUNT	880072
+SPILL	COMBINE	0
+SPILL	WRITE	10647677000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	28099204
+SPILL	COMPRESS_BYTE_COUNT	7932434
+MERGE	TOTAL_MERGE	1606000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	56661579000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00020	0
+MAP	STARTUP_MEM	215303832
+MAP	SETUP	499000
+MAP	SETUP_MEM	215303832
+MAP	CLEANUP	105000
+MAP	CLEANUP_MEM	238515528
+MAP	TOTAL_RUN	36476053000
+MAP	READ	14190472000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	139938
+MAP	VALUE_BYTE_COUNT	134185091
+MAP	MAP	22067598000
+MAP	WRITE	13778245000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1942711000
+MAP	SERIALIZE_OUTPUT	4095277000
+MAP	MAP_MEM	239077688
+SPILL	SORT_AND_SPILL	29219766000
+SPILL	QUICK_SORT	18424146000
+SPILL	SORT_COUNT	867637
+SPILL	COMBINE	0
+SPILL	WRITE	10795620000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	27303748
+SPILL	COMPRESS_BYTE_COUNT	7936320
+MERGE	TOTAL_MERGE	1793000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	66965459000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00023	0
+MAP	STARTUP_MEM	215288232
+MAP	SETUP	500000
+MAP	SETUP_MEM	215288232
+MAP	CLEANUP	102000
+MAP	CLEANUP_MEM	246968352
+MAP	TOTAL_RUN	22866964000
+MAP	READ	7227623000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	165336
+MAP	VALUE_BYTE_COUNT	134148893
+MAP	MAP	15496325000
+MAP	WRITE	8643646000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1226509000
+MAP	SERIALIZE_OUTPUT	4351775000
+MAP	MAP_MEM	246968352
+SPILL	SORT_AND_SPILL	27049076514
+SPILL	QUICK_SORT	18788026514
+SPILL	SORT_COUNT	884248
+SPILL	COMBINE	0
+SPILL	WRITE	8261050000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	27698220
+SPILL	COMPRESS_BYTE_COUNT	8120274
+MERGE	TOTAL_MERGE	1785000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	51093508514
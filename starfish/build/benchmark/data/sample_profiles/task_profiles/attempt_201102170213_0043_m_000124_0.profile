@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00036	0
+MAP	STARTUP_MEM	215275336
+MAP	SETUP	446000
+MAP	SETUP_MEM	215275336
+MAP	CLEANUP	95000
+MAP	CLEANUP_MEM	216246504
+MAP	TOTAL_RUN	15607192000
+MAP	READ	5570615000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	222174
+MAP	VALUE_BYTE_COUNT	134103422
+MAP	MAP	9889301000
+MAP	WRITE	4475040000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	723441000
+MAP	SERIALIZE_OUTPUT	1944758000
+MAP	MAP_MEM	216808664
+SPILL	SORT_AND_SPILL	31526990000
+SPILL	QUICK_SORT	20487965000
+SPILL	SORT_COUNT	820092
+SPILL	COMBINE	0
+SPILL	WRITE	11039025000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	26651278
+SPILL	COMPRESS_BYTE_COUNT	7951246
+MERGE	TOTAL_MERGE	1584000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	49327861000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00021	0
+MAP	STARTUP_MEM	214711440
+MAP	SETUP	436000
+MAP	SETUP_MEM	214711440
+MAP	CLEANUP	84000
+MAP	CLEANUP_MEM	221214536
+MAP	TOTAL_RUN	19380912000
+MAP	READ	8948450000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	159132
+MAP	VALUE_BYTE_COUNT	134100246
+MAP	MAP	10324446000
+MAP	WRITE	5530689000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	898847000
+MAP	SERIALIZE_OUTPUT	2580230000
+MAP	MAP_MEM	221214536
+SPILL	SORT_AND_SPILL	35870407000
+SPILL	QUICK_SORT	22432861000
+SPILL	SORT_COUNT	913869
+SPILL	COMBINE	0
+SPILL	WRITE	13437546000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	28261924
+SPILL	COMPRESS_BYTE_COUNT	8407659
+MERGE	TOTAL_MERGE	1531000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	56048179000
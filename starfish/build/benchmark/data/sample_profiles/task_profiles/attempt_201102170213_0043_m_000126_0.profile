@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00022	0
+MAP	STARTUP_MEM	216121008
+MAP	SETUP	454000
+MAP	SETUP_MEM	216121008
+MAP	CLEANUP	99000
+MAP	CLEANUP_MEM	235448184
+MAP	TOTAL_RUN	17553968000
+MAP	READ	7650213000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	172104
+MAP	VALUE_BYTE_COUNT	134127919
+MAP	MAP	9789639000
+MAP	WRITE	4633990000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	925275000
+MAP	SERIALIZE_OUTPUT	1900654000
+MAP	MAP_MEM	235448184
+SPILL	SORT_AND_SPILL	22594104000
+SPILL	QUICK_SORT	15066810000
+SPILL	SORT_COUNT	849734
+SPILL	COMBINE	0
+SPILL	WRITE	7527294000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	26673908
+SPILL	COMPRESS_BYTE_COUNT	7842301
+MERGE	TOTAL_MERGE	1726000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	40707775000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00038	0
+MAP	STARTUP_MEM	214439048
+MAP	SETUP	444000
+MAP	SETUP_MEM	214439048
+MAP	CLEANUP	98000
+MAP	CLEANUP_MEM	212327808
+MAP	TOTAL_RUN	24064911848
+MAP	READ	9018430848
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	221220
+MAP	VALUE_BYTE_COUNT	134112878
+MAP	MAP	14745293000
+MAP	WRITE	7158396000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	867965000
+MAP	SERIALIZE_OUTPUT	2582169000
+MAP	MAP_MEM	212327808
+SPILL	SORT_AND_SPILL	27577428000
+SPILL	QUICK_SORT	17562985000
+SPILL	SORT_COUNT	812854
+SPILL	COMBINE	0
+SPILL	WRITE	10014443000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	26346536
+SPILL	COMPRESS_BYTE_COUNT	7863799
+MERGE	TOTAL_MERGE	1710000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	52606495848
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00039	0
+MAP	STARTUP_MEM	214411080
+MAP	SETUP	440000
+MAP	SETUP_MEM	214411080
+MAP	CLEANUP	96000
+MAP	CLEANUP_MEM	222668040
+MAP	TOTAL_RUN	18875649000
+MAP	READ	7430390000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	229002
+MAP	VALUE_BYTE_COUNT	134105114
+MAP	MAP	11298224000
+MAP	WRITE	5855460000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	692475000
+MAP	SERIALIZE_OUTPUT	1952362000
+MAP	MAP_MEM	223523680
+SPILL	SORT_AND_SPILL	26081834000
+SPILL	QUICK_SORT	16973934000
+SPILL	SORT_COUNT	820026
+SPILL	COMBINE	0
+SPILL	WRITE	9107900000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	26600361
+SPILL	COMPRESS_BYTE_COUNT	7954255
+MERGE	TOTAL_MERGE	1591000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	46555728000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00015	0
+MAP	STARTUP_MEM	215314920
+MAP	SETUP	484000
+MAP	SETUP_MEM	215314920
+MAP	CLEANUP	64000
+MAP	CLEANUP_MEM	218745216
+MAP	TOTAL_RUN	30635073000
+MAP	READ	14976364000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	117264
+MAP	VALUE_BYTE_COUNT	134166191
+MAP	MAP	15574281000
+MAP	WRITE	10769429000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	5040543000
+MAP	SERIALIZE_OUTPUT	2687768000
+MAP	MAP_MEM	218745216
+SPILL	SORT_AND_SPILL	26331450000
+SPILL	QUICK_SORT	16019960000
+SPILL	SORT_COUNT	816056
+SPILL	COMBINE	0
+SPILL	WRITE	10311490000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	25493667
+SPILL	COMPRESS_BYTE_COUNT	7214844
+MERGE	TOTAL_MERGE	1499000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	57486552000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00040	0
+MAP	STARTUP_MEM	214658736
+MAP	SETUP	415000
+MAP	SETUP_MEM	214658736
+MAP	CLEANUP	95000
+MAP	CLEANUP_MEM	225012928
+MAP	TOTAL_RUN	20700674000
+MAP	READ	7373327000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	246084
+MAP	VALUE_BYTE_COUNT	134088536
+MAP	MAP	13159674000
+MAP	WRITE	7533885000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	691754000
+MAP	SERIALIZE_OUTPUT	1846240000
+MAP	MAP_MEM	225012928
+SPILL	SORT_AND_SPILL	27083665000
+SPILL	QUICK_SORT	16925588000
+SPILL	SORT_COUNT	819705
+SPILL	COMBINE	0
+SPILL	WRITE	10158077000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	26761678
+SPILL	COMPRESS_BYTE_COUNT	8111819
+MERGE	TOTAL_MERGE	1679000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	48849787000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00025	0
+MAP	STARTUP_MEM	217616040
+MAP	SETUP	437000
+MAP	SETUP_MEM	217616040
+MAP	CLEANUP	106000
+MAP	CLEANUP_MEM	237723824
+MAP	TOTAL_RUN	22024014000
+MAP	READ	7699546000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	183696
+MAP	VALUE_BYTE_COUNT	134121615
+MAP	MAP	13960113000
+MAP	WRITE	7297451000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1297654000
+MAP	SERIALIZE_OUTPUT	2567206000
+MAP	MAP_MEM	237723824
+SPILL	SORT_AND_SPILL	28777455000
+SPILL	QUICK_SORT	20494149000
+SPILL	SORT_COUNT	846377
+SPILL	COMBINE	0
+SPILL	WRITE	8283306000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	26517243
+SPILL	COMPRESS_BYTE_COUNT	7850262
+MERGE	TOTAL_MERGE	1628000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	56460285000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00033	0
+MAP	STARTUP_MEM	214446648
+MAP	SETUP	421000
+MAP	SETUP_MEM	214446648
+MAP	CLEANUP	93000
+MAP	CLEANUP_MEM	227246152
+MAP	TOTAL_RUN	16906310000
+MAP	READ	6183294000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	222162
+MAP	VALUE_BYTE_COUNT	134076185
+MAP	MAP	10565561000
+MAP	WRITE	4236210000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	713281000
+MAP	SERIALIZE_OUTPUT	1768396000
+MAP	MAP_MEM	227246152
+SPILL	SORT_AND_SPILL	29676409000
+SPILL	QUICK_SORT	16282300000
+SPILL	SORT_COUNT	829409
+SPILL	COMBINE	0
+SPILL	WRITE	13394109000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	26941601
+SPILL	COMPRESS_BYTE_COUNT	7898462
+MERGE	TOTAL_MERGE	1385000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	48324998000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00026	0
+MAP	STARTUP_MEM	216098512
+MAP	SETUP	474000
+MAP	SETUP_MEM	216098512
+MAP	CLEANUP	98000
+MAP	CLEANUP_MEM	236592160
+MAP	TOTAL_RUN	17488808000
+MAP	READ	7086258000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	199128
+MAP	VALUE_BYTE_COUNT	134129774
+MAP	MAP	10269374000
+MAP	WRITE	4982578000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	942413000
+MAP	SERIALIZE_OUTPUT	1859803000
+MAP	MAP_MEM	237447800
+SPILL	SORT_AND_SPILL	25793772000
+SPILL	QUICK_SORT	17916085000
+SPILL	SORT_COUNT	845413
+SPILL	COMBINE	0
+SPILL	WRITE	7877687000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	26499067
+SPILL	COMPRESS_BYTE_COUNT	7860286
+MERGE	TOTAL_MERGE	1431000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	43833866000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00031	0
+MAP	STARTUP_MEM	215541352
+MAP	SETUP	560000
+MAP	SETUP_MEM	215541352
+MAP	CLEANUP	111000
+MAP	CLEANUP_MEM	233302456
+MAP	TOTAL_RUN	18836323000
+MAP	READ	6300081000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	202614
+MAP	VALUE_BYTE_COUNT	134125690
+MAP	MAP	12366911000
+MAP	WRITE	5825705000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1055806000
+MAP	SERIALIZE_OUTPUT	2135699000
+MAP	MAP_MEM	233864616
+SPILL	SORT_AND_SPILL	26172624514
+SPILL	QUICK_SORT	17776667514
+SPILL	SORT_COUNT	838324
+SPILL	COMBINE	0
+SPILL	WRITE	8395957000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	27012337
+SPILL	COMPRESS_BYTE_COUNT	7838622
+MERGE	TOTAL_MERGE	1764000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	45595354514
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00030	0
+MAP	STARTUP_MEM	214434336
+MAP	SETUP	423000
+MAP	SETUP_MEM	214434336
+MAP	CLEANUP	96000
+MAP	CLEANUP_MEM	220595880
+MAP	TOTAL_RUN	14600179000
+MAP	READ	5488539000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	198552
+MAP	VALUE_BYTE_COUNT	134125157
+MAP	MAP	8988590000
+MAP	WRITE	4162994000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	719809000
+MAP	SERIALIZE_OUTPUT	1787779000
+MAP	MAP_MEM	220595880
+SPILL	SORT_AND_SPILL	25809594000
+SPILL	QUICK_SORT	14197210000
+SPILL	SORT_COUNT	807840
+SPILL	COMBINE	0
+SPILL	WRITE	11612384000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	25452658
+SPILL	COMPRESS_BYTE_COUNT	7846911
+MERGE	TOTAL_MERGE	1749000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	41490237000
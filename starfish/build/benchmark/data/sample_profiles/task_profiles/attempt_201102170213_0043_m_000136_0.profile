@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00047	0
+MAP	STARTUP_MEM	215535704
+MAP	SETUP	513000
+MAP	SETUP_MEM	215535704
+MAP	CLEANUP	102000
+MAP	CLEANUP_MEM	219829704
+MAP	TOTAL_RUN	18588216000
+MAP	READ	7466294000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	293363
+MAP	VALUE_BYTE_COUNT	134093756
+MAP	MAP	10928643000
+MAP	WRITE	5088288000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	664160000
+MAP	SERIALIZE_OUTPUT	2734536000
+MAP	MAP_MEM	219829704
+SPILL	SORT_AND_SPILL	52796081000
+SPILL	QUICK_SORT	17832651000
+SPILL	SORT_COUNT	814294
+SPILL	COMBINE	0
+SPILL	WRITE	34963430000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	26481718
+SPILL	COMPRESS_BYTE_COUNT	8049011
+MERGE	TOTAL_MERGE	1666000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	72136678000
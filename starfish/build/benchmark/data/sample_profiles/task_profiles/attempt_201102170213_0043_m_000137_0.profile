@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00028	0
+MAP	STARTUP_MEM	215249896
+MAP	SETUP	539000
+MAP	SETUP_MEM	215249896
+MAP	CLEANUP	102000
+MAP	CLEANUP_MEM	234406880
+MAP	TOTAL_RUN	23235627000
+MAP	READ	7408296000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	180360
+MAP	VALUE_BYTE_COUNT	134124716
+MAP	MAP	15612255000
+MAP	WRITE	9047939000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1151601000
+MAP	SERIALIZE_OUTPUT	2652658000
+MAP	MAP_MEM	234406880
+SPILL	SORT_AND_SPILL	41500077819
+SPILL	QUICK_SORT	21096909819
+SPILL	SORT_COUNT	806853
+SPILL	COMBINE	0
+SPILL	WRITE	20403168000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	25198452
+SPILL	COMPRESS_BYTE_COUNT	7495378
+MERGE	TOTAL_MERGE	1785000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	65373669819
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00043	0
+MAP	STARTUP_MEM	214391656
+MAP	SETUP	431000
+MAP	SETUP_MEM	214391656
+MAP	CLEANUP	164000
+MAP	CLEANUP_MEM	222498376
+MAP	TOTAL_RUN	16307953000
+MAP	READ	5580800000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	280196
+MAP	VALUE_BYTE_COUNT	134093866
+MAP	MAP	10568898000
+MAP	WRITE	4611982000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	808422000
+MAP	SERIALIZE_OUTPUT	1993165000
+MAP	MAP_MEM	222498376
+SPILL	SORT_AND_SPILL	27537930000
+SPILL	QUICK_SORT	19146773000
+SPILL	SORT_COUNT	829192
+SPILL	COMBINE	0
+SPILL	WRITE	8391157000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	27297627
+SPILL	COMPRESS_BYTE_COUNT	8133761
+MERGE	TOTAL_MERGE	1695000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	45037458000
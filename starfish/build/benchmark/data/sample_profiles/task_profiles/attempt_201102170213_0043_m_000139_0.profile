@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00037	0
+MAP	STARTUP_MEM	214661464
+MAP	SETUP	430000
+MAP	SETUP_MEM	214661464
+MAP	CLEANUP	99000
+MAP	CLEANUP_MEM	222756264
+MAP	TOTAL_RUN	21881010000
+MAP	READ	8621591000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	217830
+MAP	VALUE_BYTE_COUNT	134111030
+MAP	MAP	13113839000
+MAP	WRITE	5021884000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	682155000
+MAP	SERIALIZE_OUTPUT	2122144000
+MAP	MAP_MEM	223611904
+SPILL	SORT_AND_SPILL	22329529000
+SPILL	QUICK_SORT	14939578000
+SPILL	SORT_COUNT	820984
+SPILL	COMBINE	0
+SPILL	WRITE	7389951000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	26702463
+SPILL	COMPRESS_BYTE_COUNT	7951827
+MERGE	TOTAL_MERGE	1450000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	44762601000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00024	0
+MAP	STARTUP_MEM	215269216
+MAP	SETUP	477000
+MAP	SETUP_MEM	215269216
+MAP	CLEANUP	97000
+MAP	CLEANUP_MEM	234400768
+MAP	TOTAL_RUN	21701997000
+MAP	READ	9984290000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	158028
+MAP	VALUE_BYTE_COUNT	134133810
+MAP	MAP	11596497000
+MAP	WRITE	5166613000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	834892000
+MAP	SERIALIZE_OUTPUT	2053260000
+MAP	MAP_MEM	234400768
+SPILL	SORT_AND_SPILL	29368668000
+SPILL	QUICK_SORT	18055536000
+SPILL	SORT_COUNT	937677
+SPILL	COMBINE	0
+SPILL	WRITE	11313132000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	29783376
+SPILL	COMPRESS_BYTE_COUNT	8319329
+MERGE	TOTAL_MERGE	1534000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	53256741000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00029	0
+MAP	STARTUP_MEM	215559064
+MAP	SETUP	478000
+MAP	SETUP_MEM	215559064
+MAP	CLEANUP	102000
+MAP	CLEANUP_MEM	229374104
+MAP	TOTAL_RUN	21114327000
+MAP	READ	8330418000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	204942
+MAP	VALUE_BYTE_COUNT	134128350
+MAP	MAP	12643950000
+MAP	WRITE	6126063000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	2508673000
+MAP	SERIALIZE_OUTPUT	1733764000
+MAP	MAP_MEM	229374104
+SPILL	SORT_AND_SPILL	27084871000
+SPILL	QUICK_SORT	17858286000
+SPILL	SORT_COUNT	833810
+SPILL	COMBINE	0
+SPILL	WRITE	9226585000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	26343844
+SPILL	COMPRESS_BYTE_COUNT	7747844
+MERGE	TOTAL_MERGE	1661000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	48672607000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00035	0
+MAP	STARTUP_MEM	215293896
+MAP	SETUP	479000
+MAP	SETUP_MEM	215293896
+MAP	CLEANUP	90000
+MAP	CLEANUP_MEM	244327016
+MAP	TOTAL_RUN	15672729000
+MAP	READ	5348899000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	276588
+MAP	VALUE_BYTE_COUNT	134079750
+MAP	MAP	10133134000
+MAP	WRITE	4849237000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	950177000
+MAP	SERIALIZE_OUTPUT	1934958000
+MAP	MAP_MEM	244327016
+SPILL	SORT_AND_SPILL	25356658000
+SPILL	QUICK_SORT	17552094000
+SPILL	SORT_COUNT	853017
+SPILL	COMBINE	0
+SPILL	WRITE	7804564000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	27713137
+SPILL	COMPRESS_BYTE_COUNT	8209908
+MERGE	TOTAL_MERGE	1410000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	43525363000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00044	0
+MAP	STARTUP_MEM	214706544
+MAP	SETUP	431000
+MAP	SETUP_MEM	214706544
+MAP	CLEANUP	101000
+MAP	CLEANUP_MEM	221516824
+MAP	TOTAL_RUN	21446440000
+MAP	READ	9235978000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	316246
+MAP	VALUE_BYTE_COUNT	134083824
+MAP	MAP	12042622000
+MAP	WRITE	6291003000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	769994000
+MAP	SERIALIZE_OUTPUT	3647828000
+MAP	MAP_MEM	222078984
+SPILL	SORT_AND_SPILL	25546233000
+SPILL	QUICK_SORT	17382056000
+SPILL	SORT_COUNT	817726
+SPILL	COMBINE	0
+SPILL	WRITE	8164177000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	26766947
+SPILL	COMPRESS_BYTE_COUNT	8156483
+MERGE	TOTAL_MERGE	1852000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	48475603000
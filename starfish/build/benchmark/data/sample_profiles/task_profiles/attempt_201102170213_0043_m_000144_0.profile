@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00051	0
+MAP	STARTUP_MEM	215274088
+MAP	SETUP	497000
+MAP	SETUP_MEM	215274088
+MAP	CLEANUP	89000
+MAP	CLEANUP_MEM	213005080
+MAP	TOTAL_RUN	19407451000
+MAP	READ	7566432000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	304598
+MAP	VALUE_BYTE_COUNT	134084428
+MAP	MAP	11672316000
+MAP	WRITE	5031315000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	943317000
+MAP	SERIALIZE_OUTPUT	1774884000
+MAP	MAP_MEM	213193672
+SPILL	SORT_AND_SPILL	25824152000
+SPILL	QUICK_SORT	17523930000
+SPILL	SORT_COUNT	800506
+SPILL	COMBINE	0
+SPILL	WRITE	8300222000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	26182579
+SPILL	COMPRESS_BYTE_COUNT	7977716
+MERGE	TOTAL_MERGE	1416000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	45724222000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00054	0
+MAP	STARTUP_MEM	216111632
+MAP	SETUP	486000
+MAP	SETUP_MEM	216111632
+MAP	CLEANUP	105000
+MAP	CLEANUP_MEM	222863320
+MAP	TOTAL_RUN	21458131000
+MAP	READ	6470202000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	283549
+MAP	VALUE_BYTE_COUNT	134161954
+MAP	MAP	14786138000
+MAP	WRITE	8540833000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	4221267000
+MAP	SERIALIZE_OUTPUT	2405871000
+MAP	MAP_MEM	222863320
+SPILL	SORT_AND_SPILL	27195992000
+SPILL	QUICK_SORT	19300575000
+SPILL	SORT_COUNT	799411
+SPILL	COMBINE	0
+SPILL	WRITE	7895417000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	26158163
+SPILL	COMPRESS_BYTE_COUNT	7905805
+MERGE	TOTAL_MERGE	1503000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	49210861000
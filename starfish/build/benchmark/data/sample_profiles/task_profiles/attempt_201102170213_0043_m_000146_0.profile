@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00048	0
+MAP	STARTUP_MEM	215341720
+MAP	SETUP	551000
+MAP	SETUP_MEM	215341720
+MAP	CLEANUP	99000
+MAP	CLEANUP_MEM	242695248
+MAP	TOTAL_RUN	18140143000
+MAP	READ	7156816000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	297444
+MAP	VALUE_BYTE_COUNT	134127982
+MAP	MAP	10719399000
+MAP	WRITE	5170789000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	904257000
+MAP	SERIALIZE_OUTPUT	1893417000
+MAP	MAP_MEM	242695248
+SPILL	SORT_AND_SPILL	27209463000
+SPILL	QUICK_SORT	18384253000
+SPILL	SORT_COUNT	786297
+SPILL	COMBINE	0
+SPILL	WRITE	8825210000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	25540982
+SPILL	COMPRESS_BYTE_COUNT	7849148
+MERGE	TOTAL_MERGE	1721000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	45874794000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00049	0
+MAP	STARTUP_MEM	216077928
+MAP	SETUP	738000
+MAP	SETUP_MEM	216077928
+MAP	CLEANUP	117000
+MAP	CLEANUP_MEM	221639664
+MAP	TOTAL_RUN	18804678000
+MAP	READ	7439503000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	309456
+MAP	VALUE_BYTE_COUNT	134043822
+MAP	MAP	11171349000
+MAP	WRITE	5295784000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	777244000
+MAP	SERIALIZE_OUTPUT	2636018000
+MAP	MAP_MEM	222495304
+SPILL	SORT_AND_SPILL	26296520000
+SPILL	QUICK_SORT	17527484000
+SPILL	SORT_COUNT	812361
+SPILL	COMBINE	0
+SPILL	WRITE	8769036000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	26348210
+SPILL	COMPRESS_BYTE_COUNT	7976801
+MERGE	TOTAL_MERGE	1485000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	45674835000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00046	0
+MAP	STARTUP_MEM	216151848
+MAP	SETUP	491000
+MAP	SETUP_MEM	216151848
+MAP	CLEANUP	91000
+MAP	CLEANUP_MEM	220642528
+MAP	TOTAL_RUN	21746725000
+MAP	READ	9227484000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	289583
+MAP	VALUE_BYTE_COUNT	134082442
+MAP	MAP	12361377000
+MAP	WRITE	7062612000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	791414000
+MAP	SERIALIZE_OUTPUT	2627926000
+MAP	MAP_MEM	220642528
+SPILL	SORT_AND_SPILL	28030608000
+SPILL	QUICK_SORT	18380265000
+SPILL	SORT_COUNT	813151
+SPILL	COMBINE	0
+SPILL	WRITE	9650343000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	26566904
+SPILL	COMPRESS_BYTE_COUNT	8060086
+MERGE	TOTAL_MERGE	1659000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	50640580000
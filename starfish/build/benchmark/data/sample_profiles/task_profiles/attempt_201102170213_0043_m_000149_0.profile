@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00034	0
+MAP	STARTUP_MEM	214429472
+MAP	SETUP	449000
+MAP	SETUP_MEM	214429472
+MAP	CLEANUP	99000
+MAP	CLEANUP_MEM	219406512
+MAP	TOTAL_RUN	18944119000
+MAP	READ	8294002000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	195900
+MAP	VALUE_BYTE_COUNT	134122624
+MAP	MAP	10523642000
+MAP	WRITE	5537109000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	937536000
+MAP	SERIALIZE_OUTPUT	2087233000
+MAP	MAP_MEM	219406512
+SPILL	SORT_AND_SPILL	25230478000
+SPILL	QUICK_SORT	17022515000
+SPILL	SORT_COUNT	906324
+SPILL	COMBINE	0
+SPILL	WRITE	8207963000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	29465370
+SPILL	COMPRESS_BYTE_COUNT	8016192
+MERGE	TOTAL_MERGE	1569000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	44755033000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00032	0
+MAP	STARTUP_MEM	214665448
+MAP	SETUP	517000
+MAP	SETUP_MEM	214665448
+MAP	CLEANUP	98000
+MAP	CLEANUP_MEM	214999880
+MAP	TOTAL_RUN	23589037000
+MAP	READ	10988095000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	196020
+MAP	VALUE_BYTE_COUNT	134119719
+MAP	MAP	12470999000
+MAP	WRITE	5081682000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	924367000
+MAP	SERIALIZE_OUTPUT	1945557000
+MAP	MAP_MEM	214999880
+SPILL	SORT_AND_SPILL	30391023000
+SPILL	QUICK_SORT	17063649000
+SPILL	SORT_COUNT	880271
+SPILL	COMBINE	0
+SPILL	WRITE	13327374000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	28174514
+SPILL	COMPRESS_BYTE_COUNT	7714974
+MERGE	TOTAL_MERGE	1731000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	58625087000
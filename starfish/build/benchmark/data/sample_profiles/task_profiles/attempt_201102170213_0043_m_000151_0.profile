@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00056	0
+MAP	STARTUP_MEM	216354888
+MAP	SETUP	446000
+MAP	SETUP_MEM	216354888
+MAP	CLEANUP	95000
+MAP	CLEANUP_MEM	216474944
+MAP	TOTAL_RUN	14651425000
+MAP	READ	5321499000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	309694
+MAP	VALUE_BYTE_COUNT	134109210
+MAP	MAP	9148448000
+MAP	WRITE	4171403000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	680673000
+MAP	SERIALIZE_OUTPUT	1786814000
+MAP	MAP_MEM	216474944
+SPILL	SORT_AND_SPILL	24015697000
+SPILL	QUICK_SORT	16433686000
+SPILL	SORT_COUNT	801167
+SPILL	COMBINE	0
+SPILL	WRITE	7582011000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	26430607
+SPILL	COMPRESS_BYTE_COUNT	8201143
+MERGE	TOTAL_MERGE	1419000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	40268837000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00050	0
+MAP	STARTUP_MEM	214423328
+MAP	SETUP	419000
+MAP	SETUP_MEM	214423328
+MAP	CLEANUP	99000
+MAP	CLEANUP_MEM	223143496
+MAP	TOTAL_RUN	16344542000
+MAP	READ	7164112000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	316561
+MAP	VALUE_BYTE_COUNT	134084614
+MAP	MAP	9012673000
+MAP	WRITE	4261958000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	730199000
+MAP	SERIALIZE_OUTPUT	1736944000
+MAP	MAP_MEM	223999136
+SPILL	SORT_AND_SPILL	24495850000
+SPILL	QUICK_SORT	16170675000
+SPILL	SORT_COUNT	821342
+SPILL	COMBINE	0
+SPILL	WRITE	8325175000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	27013715
+SPILL	COMPRESS_BYTE_COUNT	8114272
+MERGE	TOTAL_MERGE	1612000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	41276200000
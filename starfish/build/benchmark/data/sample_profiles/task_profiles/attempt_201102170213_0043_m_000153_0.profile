@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00055	0
+MAP	STARTUP_MEM	214400208
+MAP	SETUP	432000
+MAP	SETUP_MEM	214400208
+MAP	CLEANUP	98000
+MAP	CLEANUP_MEM	216646704
+MAP	TOTAL_RUN	20023128000
+MAP	READ	5430165000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	319431
+MAP	VALUE_BYTE_COUNT	134016531
+MAP	MAP	14411488000
+MAP	WRITE	9084063000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	774029000
+MAP	SERIALIZE_OUTPUT	3109244000
+MAP	MAP_MEM	216646704
+SPILL	SORT_AND_SPILL	26828982000
+SPILL	QUICK_SORT	18813209000
+SPILL	SORT_COUNT	803359
+SPILL	COMBINE	0
+SPILL	WRITE	8015773000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	26106299
+SPILL	COMPRESS_BYTE_COUNT	7985859
+MERGE	TOTAL_MERGE	1434000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	47470781000
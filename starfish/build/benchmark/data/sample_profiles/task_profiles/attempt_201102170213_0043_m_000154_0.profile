@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00007	0
+MAP	STARTUP_MEM	214452936
+MAP	SETUP	485000
+MAP	SETUP_MEM	214452936
+MAP	CLEANUP	108000
+MAP	CLEANUP_MEM	219487704
+MAP	TOTAL_RUN	31344363819
+MAP	READ	9232860819
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	79780
+MAP	VALUE_BYTE_COUNT	134171431
+MAP	MAP	21846494000
+MAP	WRITE	13405415000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1781458000
+MAP	SERIALIZE_OUTPUT	3401804000
+MAP	MAP_MEM	219487704
+SPILL	SORT_AND_SPILL	35513983000
+SPILL	QUICK_SORT	23991158000
+SPILL	SORT_COUNT	904949
+SPILL	COMBINE	0
+SPILL	WRITE	11522825000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	28234220
+SPILL	COMPRESS_BYTE_COUNT	7380423
+MERGE	TOTAL_MERGE	228302000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	68455404819
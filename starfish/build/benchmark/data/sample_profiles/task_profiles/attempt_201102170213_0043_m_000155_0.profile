@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00057	0
+MAP	STARTUP_MEM	216320048
+MAP	SETUP	476000
+MAP	SETUP_MEM	216320048
+MAP	CLEANUP	93000
+MAP	CLEANUP_MEM	217978504
+MAP	TOTAL_RUN	17628558000
+MAP	READ	6598935000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	323330
+MAP	VALUE_BYTE_COUNT	134091863
+MAP	MAP	10798591000
+MAP	WRITE	5319462000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	747653000
+MAP	SERIALIZE_OUTPUT	1953498000
+MAP	MAP_MEM	217978504
+SPILL	SORT_AND_SPILL	28005902000
+SPILL	QUICK_SORT	20420963000
+SPILL	SORT_COUNT	805310
+SPILL	COMBINE	0
+SPILL	WRITE	7584939000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	26360302
+SPILL	COMPRESS_BYTE_COUNT	7905002
+MERGE	TOTAL_MERGE	1662000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	46179445000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00058	0
+MAP	STARTUP_MEM	214439600
+MAP	SETUP	427000
+MAP	SETUP_MEM	214439600
+MAP	CLEANUP	98000
+MAP	CLEANUP_MEM	241354696
+MAP	TOTAL_RUN	19939278000
+MAP	READ	6330140000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	318003
+MAP	VALUE_BYTE_COUNT	134046253
+MAP	MAP	13424478000
+MAP	WRITE	6736087000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	676697000
+MAP	SERIALIZE_OUTPUT	2957642000
+MAP	MAP_MEM	241354696
+SPILL	SORT_AND_SPILL	23156689000
+SPILL	QUICK_SORT	15649665000
+SPILL	SORT_COUNT	786320
+SPILL	COMBINE	0
+SPILL	WRITE	7507024000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	25755643
+SPILL	COMPRESS_BYTE_COUNT	7956565
+MERGE	TOTAL_MERGE	1493000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	45991946000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00073	0
+MAP	STARTUP_MEM	216129488
+MAP	SETUP	471000
+MAP	SETUP_MEM	216129488
+MAP	CLEANUP	96000
+MAP	CLEANUP_MEM	223929896
+MAP	TOTAL_RUN	14830912000
+MAP	READ	5518414000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	370293
+MAP	VALUE_BYTE_COUNT	134060260
+MAP	MAP	9118960000
+MAP	WRITE	4172840000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	749871000
+MAP	SERIALIZE_OUTPUT	1739598000
+MAP	MAP_MEM	223929896
+SPILL	SORT_AND_SPILL	23071295000
+SPILL	QUICK_SORT	13989293000
+SPILL	SORT_COUNT	800776
+SPILL	COMBINE	0
+SPILL	WRITE	9082002000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	26309641
+SPILL	COMPRESS_BYTE_COUNT	8104168
+MERGE	TOTAL_MERGE	1589000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	38356265000
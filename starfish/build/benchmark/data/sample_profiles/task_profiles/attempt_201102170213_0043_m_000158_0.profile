@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00042	0
+MAP	STARTUP_MEM	215264552
+MAP	SETUP	505000
+MAP	SETUP_MEM	215264552
+MAP	CLEANUP	96000
+MAP	CLEANUP_MEM	221865304
+MAP	TOTAL_RUN	15226089000
+MAP	READ	5850450000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	264880
+MAP	VALUE_BYTE_COUNT	134099647
+MAP	MAP	9192557000
+MAP	WRITE	4184859000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	679934000
+MAP	SERIALIZE_OUTPUT	1791984000
+MAP	MAP_MEM	221865304
+SPILL	SORT_AND_SPILL	26989594000
+SPILL	QUICK_SORT	19516135000
+SPILL	SORT_COUNT	821123
+SPILL	COMBINE	0
+SPILL	WRITE	7473459000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	27255823
+SPILL	COMPRESS_BYTE_COUNT	7900878
+MERGE	TOTAL_MERGE	1701000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	42719265000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00041	0
+MAP	STARTUP_MEM	216082120
+MAP	SETUP	482000
+MAP	SETUP_MEM	216082120
+MAP	CLEANUP	97000
+MAP	CLEANUP_MEM	225082576
+MAP	TOTAL_RUN	17581646000
+MAP	READ	5886099000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	274841
+MAP	VALUE_BYTE_COUNT	134109542
+MAP	MAP	11540246000
+MAP	WRITE	6399224000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	710568000
+MAP	SERIALIZE_OUTPUT	1772374000
+MAP	MAP_MEM	225082576
+SPILL	SORT_AND_SPILL	25435109000
+SPILL	QUICK_SORT	17816101000
+SPILL	SORT_COUNT	823120
+SPILL	COMBINE	0
+SPILL	WRITE	7619008000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	27320209
+SPILL	COMPRESS_BYTE_COUNT	8015304
+MERGE	TOTAL_MERGE	1812000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	43468384000
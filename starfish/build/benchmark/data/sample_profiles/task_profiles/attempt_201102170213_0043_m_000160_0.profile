@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00067	0
+MAP	STARTUP_MEM	215280184
+MAP	SETUP	474000
+MAP	SETUP_MEM	215280184
+MAP	CLEANUP	94000
+MAP	CLEANUP_MEM	246493280
+MAP	TOTAL_RUN	17643615000
+MAP	READ	7645396000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	332997
+MAP	VALUE_BYTE_COUNT	134078052
+MAP	MAP	9812140000
+MAP	WRITE	5086739000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	918980000
+MAP	SERIALIZE_OUTPUT	2104930000
+MAP	MAP_MEM	246493280
+SPILL	SORT_AND_SPILL	27230732000
+SPILL	QUICK_SORT	17139834000
+SPILL	SORT_COUNT	798044
+SPILL	COMBINE	0
+SPILL	WRITE	10090898000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	26366358
+SPILL	COMPRESS_BYTE_COUNT	8023393
+MERGE	TOTAL_MERGE	1568000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	45328617000
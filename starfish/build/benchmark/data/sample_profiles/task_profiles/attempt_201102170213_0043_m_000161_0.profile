@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00066	0
+MAP	STARTUP_MEM	215283744
+MAP	SETUP	509000
+MAP	SETUP_MEM	215283744
+MAP	CLEANUP	89000
+MAP	CLEANUP_MEM	213816240
+MAP	TOTAL_RUN	22044123000
+MAP	READ	7099536000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	327607
+MAP	VALUE_BYTE_COUNT	134074020
+MAP	MAP	14478126000
+MAP	WRITE	8237093000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	3364501000
+MAP	SERIALIZE_OUTPUT	2296235000
+MAP	MAP_MEM	213816240
+SPILL	SORT_AND_SPILL	23254707000
+SPILL	QUICK_SORT	16005779000
+SPILL	SORT_COUNT	781698
+SPILL	COMBINE	0
+SPILL	WRITE	7248928000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	25771743
+SPILL	COMPRESS_BYTE_COUNT	7851748
+MERGE	TOTAL_MERGE	1815000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	46190387000
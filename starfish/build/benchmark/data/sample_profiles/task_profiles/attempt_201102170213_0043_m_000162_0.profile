@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00059	0
+MAP	STARTUP_MEM	214671768
+MAP	SETUP	525000
+MAP	SETUP_MEM	214671768
+MAP	CLEANUP	91000
+MAP	CLEANUP_MEM	245010584
+MAP	TOTAL_RUN	17633296000
+MAP	READ	7164076000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	319935
+MAP	VALUE_BYTE_COUNT	134077277
+MAP	MAP	10223117000
+MAP	WRITE	4211042000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	676370000
+MAP	SERIALIZE_OUTPUT	1831590000
+MAP	MAP_MEM	245866224
+SPILL	SORT_AND_SPILL	27146013000
+SPILL	QUICK_SORT	17326368000
+SPILL	SORT_COUNT	800191
+SPILL	COMBINE	0
+SPILL	WRITE	9819645000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	26177217
+SPILL	COMPRESS_BYTE_COUNT	7890329
+MERGE	TOTAL_MERGE	1459000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	45352285000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00062	0
+MAP	STARTUP_MEM	215251072
+MAP	SETUP	470000
+MAP	SETUP_MEM	215251072
+MAP	CLEANUP	114000
+MAP	CLEANUP_MEM	242343256
+MAP	TOTAL_RUN	16527521000
+MAP	READ	6038178000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	332024
+MAP	VALUE_BYTE_COUNT	133983880
+MAP	MAP	10292966000
+MAP	WRITE	4534664000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	703351000
+MAP	SERIALIZE_OUTPUT	1939492000
+MAP	MAP_MEM	242343256
+SPILL	SORT_AND_SPILL	25254357000
+SPILL	QUICK_SORT	17599209000
+SPILL	SORT_COUNT	787583
+SPILL	COMBINE	0
+SPILL	WRITE	7655148000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	26229631
+SPILL	COMPRESS_BYTE_COUNT	7997278
+MERGE	TOTAL_MERGE	2108000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	42318174000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00068	0
+MAP	STARTUP_MEM	214404568
+MAP	SETUP	442000
+MAP	SETUP_MEM	214404568
+MAP	CLEANUP	92000
+MAP	CLEANUP_MEM	245046248
+MAP	TOTAL_RUN	17767536000
+MAP	READ	6688386000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	356510
+MAP	VALUE_BYTE_COUNT	134097239
+MAP	MAP	10889417000
+MAP	WRITE	5916278000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1721609000
+MAP	SERIALIZE_OUTPUT	2292401000
+MAP	MAP_MEM	245046248
+SPILL	SORT_AND_SPILL	23248202000
+SPILL	QUICK_SORT	15635635000
+SPILL	SORT_COUNT	784820
+SPILL	COMBINE	0
+SPILL	WRITE	7612567000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	25850762
+SPILL	COMPRESS_BYTE_COUNT	7953688
+MERGE	TOTAL_MERGE	1568000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	41631366000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00071	0
+MAP	STARTUP_MEM	215308384
+MAP	SETUP	492000
+MAP	SETUP_MEM	215308384
+MAP	CLEANUP	97000
+MAP	CLEANUP_MEM	244343832
+MAP	TOTAL_RUN	20668482000
+MAP	READ	6593341000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	381528
+MAP	VALUE_BYTE_COUNT	134122604
+MAP	MAP	11401375000
+MAP	WRITE	5439580000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	931392000
+MAP	SERIALIZE_OUTPUT	1842679000
+MAP	MAP_MEM	244343832
+SPILL	SORT_AND_SPILL	22659456000
+SPILL	QUICK_SORT	14882112000
+SPILL	SORT_COUNT	764186
+SPILL	COMBINE	0
+SPILL	WRITE	7777344000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	25160132
+SPILL	COMPRESS_BYTE_COUNT	7846962
+MERGE	TOTAL_MERGE	1713000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	43786451000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00063	0
+MAP	STARTUP_MEM	216114840
+MAP	SETUP	471000
+MAP	SETUP_MEM	216114840
+MAP	CLEANUP	99000
+MAP	CLEANUP_MEM	234734376
+MAP	TOTAL_RUN	15656885000
+MAP	READ	5279416000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	344099
+MAP	VALUE_BYTE_COUNT	134074067
+MAP	MAP	10168613000
+MAP	WRITE	4156234000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	800120000
+MAP	SERIALIZE_OUTPUT	1573204000
+MAP	MAP_MEM	234734376
+SPILL	SORT_AND_SPILL	23019884000
+SPILL	QUICK_SORT	15960230000
+SPILL	SORT_COUNT	752330
+SPILL	COMBINE	0
+SPILL	WRITE	7059654000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	25054963
+SPILL	COMPRESS_BYTE_COUNT	7836026
+MERGE	TOTAL_MERGE	1644000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	39131530000
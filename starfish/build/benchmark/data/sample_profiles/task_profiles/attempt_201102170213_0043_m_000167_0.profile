@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00072	0
+MAP	STARTUP_MEM	215276392
+MAP	SETUP	546000
+MAP	SETUP_MEM	215276392
+MAP	CLEANUP	105000
+MAP	CLEANUP_MEM	232023952
+MAP	TOTAL_RUN	20170338514
+MAP	READ	6746169000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	356517
+MAP	VALUE_BYTE_COUNT	133994553
+MAP	MAP	13116429514
+MAP	WRITE	5866199514
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	848190000
+MAP	SERIALIZE_OUTPUT	2047022514
+MAP	MAP_MEM	232023952
+SPILL	SORT_AND_SPILL	25248056000
+SPILL	QUICK_SORT	17114885000
+SPILL	SORT_COUNT	732552
+SPILL	COMBINE	0
+SPILL	WRITE	8133171000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	24175859
+SPILL	COMPRESS_BYTE_COUNT	7552730
+MERGE	TOTAL_MERGE	1904000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	46522817514
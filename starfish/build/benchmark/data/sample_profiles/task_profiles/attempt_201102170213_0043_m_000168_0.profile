@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00060	0
+MAP	STARTUP_MEM	215302320
+MAP	SETUP	516000
+MAP	SETUP_MEM	215302320
+MAP	CLEANUP	102000
+MAP	CLEANUP_MEM	241161448
+MAP	TOTAL_RUN	16881509000
+MAP	READ	5893413000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	327096
+MAP	VALUE_BYTE_COUNT	134077665
+MAP	MAP	10768997000
+MAP	WRITE	5635515000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	928194000
+MAP	SERIALIZE_OUTPUT	1990348000
+MAP	MAP_MEM	241723608
+SPILL	SORT_AND_SPILL	24557857135
+SPILL	QUICK_SORT	16953100000
+SPILL	SORT_COUNT	792843
+SPILL	COMBINE	0
+SPILL	WRITE	7604757135
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	26382115
+SPILL	COMPRESS_BYTE_COUNT	7922243
+MERGE	TOTAL_MERGE	1767000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	41898163135
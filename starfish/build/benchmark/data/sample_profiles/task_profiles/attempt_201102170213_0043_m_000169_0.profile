@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00053	0
+MAP	STARTUP_MEM	215335840
+MAP	SETUP	518000
+MAP	SETUP_MEM	215335840
+MAP	CLEANUP	108000
+MAP	CLEANUP_MEM	245686576
+MAP	TOTAL_RUN	18678294000
+MAP	READ	6285721000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	309645
+MAP	VALUE_BYTE_COUNT	134085197
+MAP	MAP	12168714000
+MAP	WRITE	5791234000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	874365000
+MAP	SERIALIZE_OUTPUT	2053707000
+MAP	MAP_MEM	245686576
+SPILL	SORT_AND_SPILL	25818979135
+SPILL	QUICK_SORT	17785896135
+SPILL	SORT_COUNT	820090
+SPILL	COMBINE	0
+SPILL	WRITE	8033083000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	27105266
+SPILL	COMPRESS_BYTE_COUNT	7808358
+MERGE	TOTAL_MERGE	1782000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	45336629135
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00069	0
+MAP	STARTUP_MEM	215275616
+MAP	SETUP	512000
+MAP	SETUP_MEM	215275616
+MAP	CLEANUP	98000
+MAP	CLEANUP_MEM	234410672
+MAP	TOTAL_RUN	15784567000
+MAP	READ	5660698000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	339710
+MAP	VALUE_BYTE_COUNT	134037092
+MAP	MAP	9945020000
+MAP	WRITE	4025263000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	662868000
+MAP	SERIALIZE_OUTPUT	1643542000
+MAP	MAP_MEM	234410672
+SPILL	SORT_AND_SPILL	22873771000
+SPILL	QUICK_SORT	15856540000
+SPILL	SORT_COUNT	752514
+SPILL	COMBINE	0
+SPILL	WRITE	7017231000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	24906688
+SPILL	COMPRESS_BYTE_COUNT	7704839
+MERGE	TOTAL_MERGE	1443000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	39183888000
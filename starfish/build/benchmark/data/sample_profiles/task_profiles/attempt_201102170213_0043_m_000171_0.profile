@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00061	0
+MAP	STARTUP_MEM	216147752
+MAP	SETUP	468000
+MAP	SETUP_MEM	216147752
+MAP	CLEANUP	98000
+MAP	CLEANUP_MEM	237330264
+MAP	TOTAL_RUN	17870182000
+MAP	READ	6381748000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	321146
+MAP	VALUE_BYTE_COUNT	134171648
+MAP	MAP	11319943000
+MAP	WRITE	6190850000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	809644000
+MAP	SERIALIZE_OUTPUT	3371342000
+MAP	MAP_MEM	237330264
+SPILL	SORT_AND_SPILL	22565542000
+SPILL	QUICK_SORT	15399595000
+SPILL	SORT_COUNT	772514
+SPILL	COMBINE	0
+SPILL	WRITE	7165947000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	25363482
+SPILL	COMPRESS_BYTE_COUNT	7689918
+MERGE	TOTAL_MERGE	1615000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	41074616000
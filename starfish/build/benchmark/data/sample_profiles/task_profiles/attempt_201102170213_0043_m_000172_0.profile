@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00075	0
+MAP	STARTUP_MEM	216374920
+MAP	SETUP	486000
+MAP	SETUP_MEM	216374920
+MAP	CLEANUP	178000
+MAP	CLEANUP_MEM	241048880
+MAP	TOTAL_RUN	18565369000
+MAP	READ	6683795000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	371112
+MAP	VALUE_BYTE_COUNT	134059569
+MAP	MAP	11682595000
+MAP	WRITE	5764733000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	714987000
+MAP	SERIALIZE_OUTPUT	3202699000
+MAP	MAP_MEM	241048880
+SPILL	SORT_AND_SPILL	26564885000
+SPILL	QUICK_SORT	19384604000
+SPILL	SORT_COUNT	755923
+SPILL	COMBINE	0
+SPILL	WRITE	7180281000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	24861904
+SPILL	COMPRESS_BYTE_COUNT	7680291
+MERGE	TOTAL_MERGE	1588000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	45656770000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00045	0
+MAP	STARTUP_MEM	214414104
+MAP	SETUP	443000
+MAP	SETUP_MEM	214414104
+MAP	CLEANUP	98000
+MAP	CLEANUP_MEM	245503720
+MAP	TOTAL_RUN	19990677000
+MAP	READ	5856572000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	286342
+MAP	VALUE_BYTE_COUNT	134102482
+MAP	MAP	13938169000
+MAP	WRITE	7865320000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	839196000
+MAP	SERIALIZE_OUTPUT	4236885000
+MAP	MAP_MEM	245503720
+SPILL	SORT_AND_SPILL	23663096000
+SPILL	QUICK_SORT	15963898000
+SPILL	SORT_COUNT	793355
+SPILL	COMBINE	0
+SPILL	WRITE	7699198000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	25849176
+SPILL	COMPRESS_BYTE_COUNT	7996675
+MERGE	TOTAL_MERGE	1628000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	44117608000
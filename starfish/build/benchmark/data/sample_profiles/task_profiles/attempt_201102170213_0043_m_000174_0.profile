@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00027	0
+MAP	STARTUP_MEM	215312568
+MAP	SETUP	524000
+MAP	SETUP_MEM	215312568
+MAP	CLEANUP	97000
+MAP	CLEANUP_MEM	247021096
+MAP	TOTAL_RUN	19669947000
+MAP	READ	6440898000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	345552
+MAP	VALUE_BYTE_COUNT	134032817
+MAP	MAP	12965106000
+MAP	WRITE	6261990000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	929254000
+MAP	SERIALIZE_OUTPUT	2072768000
+MAP	MAP_MEM	247310680
+SPILL	SORT_AND_SPILL	25541513000
+SPILL	QUICK_SORT	16637312000
+SPILL	SORT_COUNT	826606
+SPILL	COMBINE	0
+SPILL	WRITE	8904201000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	25961207
+SPILL	COMPRESS_BYTE_COUNT	8087799
+MERGE	TOTAL_MERGE	1775000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	46014956000
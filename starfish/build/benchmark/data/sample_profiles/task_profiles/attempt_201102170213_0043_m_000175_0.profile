@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00074	0
+MAP	STARTUP_MEM	215329968
+MAP	SETUP	515000
+MAP	SETUP_MEM	215329968
+MAP	CLEANUP	110000
+MAP	CLEANUP_MEM	243617824
+MAP	TOTAL_RUN	17925047000
+MAP	READ	5947104000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	380324
+MAP	VALUE_BYTE_COUNT	134053576
+MAP	MAP	11725787000
+MAP	WRITE	5801772000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	933581000
+MAP	SERIALIZE_OUTPUT	2148920000
+MAP	MAP_MEM	243617824
+SPILL	SORT_AND_SPILL	23717543000
+SPILL	QUICK_SORT	16472986000
+SPILL	SORT_COUNT	769891
+SPILL	COMBINE	0
+SPILL	WRITE	7244557000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	25387573
+SPILL	COMPRESS_BYTE_COUNT	7886752
+MERGE	TOTAL_MERGE	1769000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	42137976000
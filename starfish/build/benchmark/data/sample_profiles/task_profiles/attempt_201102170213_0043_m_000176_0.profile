@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00076	0
+MAP	STARTUP_MEM	214679840
+MAP	SETUP	456000
+MAP	SETUP_MEM	214679840
+MAP	CLEANUP	98000
+MAP	CLEANUP_MEM	212495608
+MAP	TOTAL_RUN	16189058000
+MAP	READ	5736609000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	361109
+MAP	VALUE_BYTE_COUNT	134064002
+MAP	MAP	10263468000
+MAP	WRITE	4401326000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	758152000
+MAP	SERIALIZE_OUTPUT	2042508000
+MAP	MAP_MEM	212495608
+SPILL	SORT_AND_SPILL	24946701000
+SPILL	QUICK_SORT	16222181000
+SPILL	SORT_COUNT	783044
+SPILL	COMBINE	0
+SPILL	WRITE	8724520000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	25676997
+SPILL	COMPRESS_BYTE_COUNT	7861526
+MERGE	TOTAL_MERGE	1554000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	41617839000
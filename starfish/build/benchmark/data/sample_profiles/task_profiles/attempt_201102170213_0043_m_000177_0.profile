@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00052	0
+MAP	STARTUP_MEM	214438544
+MAP	SETUP	417000
+MAP	SETUP_MEM	214438544
+MAP	CLEANUP	96000
+MAP	CLEANUP_MEM	217187416
+MAP	TOTAL_RUN	15336059000
+MAP	READ	5328548000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	396627
+MAP	VALUE_BYTE_COUNT	134047741
+MAP	MAP	9785671000
+MAP	WRITE	4174840000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	678013000
+MAP	SERIALIZE_OUTPUT	1750945000
+MAP	MAP_MEM	217187416
+SPILL	SORT_AND_SPILL	25581692000
+SPILL	QUICK_SORT	18076860000
+SPILL	SORT_COUNT	779135
+SPILL	COMBINE	0
+SPILL	WRITE	7504832000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	26452277
+SPILL	COMPRESS_BYTE_COUNT	8049750
+MERGE	TOTAL_MERGE	1478000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	41361983000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00064	0
+MAP	STARTUP_MEM	216302464
+MAP	SETUP	499000
+MAP	SETUP_MEM	216302464
+MAP	CLEANUP	113000
+MAP	CLEANUP_MEM	216912440
+MAP	TOTAL_RUN	19156271000
+MAP	READ	6049254000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	325829
+MAP	VALUE_BYTE_COUNT	134075306
+MAP	MAP	12931480000
+MAP	WRITE	5641050000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1892753000
+MAP	SERIALIZE_OUTPUT	1804332000
+MAP	MAP_MEM	216912440
+SPILL	SORT_AND_SPILL	25406774000
+SPILL	QUICK_SORT	17847432000
+SPILL	SORT_COUNT	796721
+SPILL	COMBINE	0
+SPILL	WRITE	7559342000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	26253011
+SPILL	COMPRESS_BYTE_COUNT	7900655
+MERGE	TOTAL_MERGE	1545000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	45120236000
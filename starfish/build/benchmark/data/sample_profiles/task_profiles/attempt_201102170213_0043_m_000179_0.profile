@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00065	0
+MAP	STARTUP_MEM	215293056
+MAP	SETUP	509000
+MAP	SETUP_MEM	215293056
+MAP	CLEANUP	101000
+MAP	CLEANUP_MEM	246606064
+MAP	TOTAL_RUN	16619779000
+MAP	READ	5947033000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	326480
+MAP	VALUE_BYTE_COUNT	134080056
+MAP	MAP	10388015000
+MAP	WRITE	5172473000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	889544000
+MAP	SERIALIZE_OUTPUT	1907019000
+MAP	MAP_MEM	246606064
+SPILL	SORT_AND_SPILL	23432268000
+SPILL	QUICK_SORT	15007360000
+SPILL	SORT_COUNT	781043
+SPILL	COMBINE	0
+SPILL	WRITE	8424908000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	25931141
+SPILL	COMPRESS_BYTE_COUNT	7885197
+MERGE	TOTAL_MERGE	1736000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	40577412000
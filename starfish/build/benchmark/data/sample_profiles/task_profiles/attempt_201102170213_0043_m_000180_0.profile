@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00085	0
+MAP	STARTUP_MEM	216077568
+MAP	SETUP	494000
+MAP	SETUP_MEM	216077568
+MAP	CLEANUP	104000
+MAP	CLEANUP_MEM	230495224
+MAP	TOTAL_RUN	16508464000
+MAP	READ	7271559000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	349909
+MAP	VALUE_BYTE_COUNT	134071491
+MAP	MAP	9018115000
+MAP	WRITE	4327240000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	638161000
+MAP	SERIALIZE_OUTPUT	1701310000
+MAP	MAP_MEM	230495224
+SPILL	SORT_AND_SPILL	23286478000
+SPILL	QUICK_SORT	15754964000
+SPILL	SORT_COUNT	730303
+SPILL	COMBINE	0
+SPILL	WRITE	7531514000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	24052531
+SPILL	COMPRESS_BYTE_COUNT	7507164
+MERGE	TOTAL_MERGE	1631000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	40381146000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00070	0
+MAP	STARTUP_MEM	214641840
+MAP	SETUP	424000
+MAP	SETUP_MEM	214641840
+MAP	CLEANUP	106000
+MAP	CLEANUP_MEM	235028000
+MAP	TOTAL_RUN	17268020000
+MAP	READ	6404678000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	354102
+MAP	VALUE_BYTE_COUNT	134067622
+MAP	MAP	10678655000
+MAP	WRITE	4735863000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	760141000
+MAP	SERIALIZE_OUTPUT	2007551000
+MAP	MAP_MEM	235028000
+SPILL	SORT_AND_SPILL	23920786000
+SPILL	QUICK_SORT	14646147000
+SPILL	SORT_COUNT	764828
+SPILL	COMBINE	0
+SPILL	WRITE	9274639000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	25303353
+SPILL	COMPRESS_BYTE_COUNT	7909420
+MERGE	TOTAL_MERGE	1785000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	41611683000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00079	0
+MAP	STARTUP_MEM	214450696
+MAP	SETUP	439000
+MAP	SETUP_MEM	214450696
+MAP	CLEANUP	107000
+MAP	CLEANUP_MEM	232828312
+MAP	TOTAL_RUN	22458189000
+MAP	READ	7234616000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	362047
+MAP	VALUE_BYTE_COUNT	134058087
+MAP	MAP	14973933000
+MAP	WRITE	7102150000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	947518000
+MAP	SERIALIZE_OUTPUT	2547359000
+MAP	MAP_MEM	233683952
+SPILL	SORT_AND_SPILL	23541696000
+SPILL	QUICK_SORT	15928560000
+SPILL	SORT_COUNT	748192
+SPILL	COMBINE	0
+SPILL	WRITE	7613136000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	24893066
+SPILL	COMPRESS_BYTE_COUNT	7628026
+MERGE	TOTAL_MERGE	1630000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	46704716000
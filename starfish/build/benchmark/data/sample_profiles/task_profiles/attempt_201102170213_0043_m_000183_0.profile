@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00089	0
+MAP	STARTUP_MEM	214444776
+MAP	SETUP	481000
+MAP	SETUP_MEM	214444776
+MAP	CLEANUP	114000
+MAP	CLEANUP_MEM	238335680
+MAP	TOTAL_RUN	18926069514
+MAP	READ	6996868000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	378294
+MAP	VALUE_BYTE_COUNT	134037058
+MAP	MAP	11529589514
+MAP	WRITE	5506196514
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1047816514
+MAP	SERIALIZE_OUTPUT	2063861000
+MAP	MAP_MEM	238335680
+SPILL	SORT_AND_SPILL	24908706000
+SPILL	QUICK_SORT	17400639000
+SPILL	SORT_COUNT	762731
+SPILL	COMBINE	0
+SPILL	WRITE	7508067000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	25438762
+SPILL	COMPRESS_BYTE_COUNT	7909969
+MERGE	TOTAL_MERGE	1821000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	44499915514
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00077	0
+MAP	STARTUP_MEM	214704032
+MAP	SETUP	497000
+MAP	SETUP_MEM	214704032
+MAP	CLEANUP	99000
+MAP	CLEANUP_MEM	233119400
+MAP	TOTAL_RUN	16027625000
+MAP	READ	5509983000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	361746
+MAP	VALUE_BYTE_COUNT	134301619
+MAP	MAP	10001691000
+MAP	WRITE	4206621000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	668086000
+MAP	SERIALIZE_OUTPUT	1964561000
+MAP	MAP_MEM	233975040
+SPILL	SORT_AND_SPILL	23528824000
+SPILL	QUICK_SORT	15588821000
+SPILL	SORT_COUNT	738857
+SPILL	COMBINE	0
+SPILL	WRITE	7940003000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	24082384
+SPILL	COMPRESS_BYTE_COUNT	7416420
+MERGE	TOTAL_MERGE	1538000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	40068487000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00080	0
+MAP	STARTUP_MEM	215495760
+MAP	SETUP	507000
+MAP	SETUP_MEM	215495760
+MAP	CLEANUP	95000
+MAP	CLEANUP_MEM	215460952
+MAP	TOTAL_RUN	15463822000
+MAP	READ	5650436000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	349517
+MAP	VALUE_BYTE_COUNT	134066135
+MAP	MAP	9607005000
+MAP	WRITE	4375660000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	752166000
+MAP	SERIALIZE_OUTPUT	1911700000
+MAP	MAP_MEM	215460952
+SPILL	SORT_AND_SPILL	21357449000
+SPILL	QUICK_SORT	14465564000
+SPILL	SORT_COUNT	720814
+SPILL	COMBINE	0
+SPILL	WRITE	6891885000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	23868741
+SPILL	COMPRESS_BYTE_COUNT	7375107
+MERGE	TOTAL_MERGE	1533000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	37368063000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00078	0
+MAP	STARTUP_MEM	215259272
+MAP	SETUP	487000
+MAP	SETUP_MEM	215259272
+MAP	CLEANUP	101000
+MAP	CLEANUP_MEM	225325016
+MAP	TOTAL_RUN	17421983000
+MAP	READ	6452013000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	340557
+MAP	VALUE_BYTE_COUNT	133837543
+MAP	MAP	10722103000
+MAP	WRITE	5228585000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1021697000
+MAP	SERIALIZE_OUTPUT	1785498000
+MAP	MAP_MEM	225887176
+SPILL	SORT_AND_SPILL	23347401000
+SPILL	QUICK_SORT	16310317000
+SPILL	SORT_COUNT	754636
+SPILL	COMBINE	0
+SPILL	WRITE	7037084000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	25023385
+SPILL	COMPRESS_BYTE_COUNT	7791984
+MERGE	TOTAL_MERGE	1758000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	41284506000
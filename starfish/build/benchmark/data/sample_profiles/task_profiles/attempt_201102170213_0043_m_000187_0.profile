@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00091	0
+MAP	STARTUP_MEM	216118592
+MAP	SETUP	474000
+MAP	SETUP_MEM	216118592
+MAP	CLEANUP	95000
+MAP	CLEANUP_MEM	239185200
+MAP	TOTAL_RUN	15136487000
+MAP	READ	5424178000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	390425
+MAP	VALUE_BYTE_COUNT	134050235
+MAP	MAP	9468518000
+MAP	WRITE	3962967000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	760506000
+MAP	SERIALIZE_OUTPUT	1598693000
+MAP	MAP_MEM	239185200
+SPILL	SORT_AND_SPILL	22313168000
+SPILL	QUICK_SORT	14193925000
+SPILL	SORT_COUNT	724217
+SPILL	COMBINE	0
+SPILL	WRITE	8119243000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	24026397
+SPILL	COMPRESS_BYTE_COUNT	7556520
+MERGE	TOTAL_MERGE	1561000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	37962500000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00096	0
+MAP	STARTUP_MEM	214412432
+MAP	SETUP	460000
+MAP	SETUP_MEM	214412432
+MAP	CLEANUP	104000
+MAP	CLEANUP_MEM	230338616
+MAP	TOTAL_RUN	18978542000
+MAP	READ	7917377000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	362901
+MAP	VALUE_BYTE_COUNT	134064174
+MAP	MAP	10820461000
+MAP	WRITE	5316580000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	847493000
+MAP	SERIALIZE_OUTPUT	2111133000
+MAP	MAP_MEM	230338616
+SPILL	SORT_AND_SPILL	22955203000
+SPILL	QUICK_SORT	14940042000
+SPILL	SORT_COUNT	727182
+SPILL	COMBINE	0
+SPILL	WRITE	8015161000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	24360829
+SPILL	COMPRESS_BYTE_COUNT	7742270
+MERGE	TOTAL_MERGE	1736000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	42808997000
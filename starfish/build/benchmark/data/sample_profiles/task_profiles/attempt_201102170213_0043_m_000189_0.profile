@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00090	0
+MAP	STARTUP_MEM	216109992
+MAP	SETUP	554000
+MAP	SETUP_MEM	216109992
+MAP	CLEANUP	90000
+MAP	CLEANUP_MEM	237744000
+MAP	TOTAL_RUN	15184243000
+MAP	READ	6202925000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	385280
+MAP	VALUE_BYTE_COUNT	134050401
+MAP	MAP	8728990000
+MAP	WRITE	4034487000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	696457000
+MAP	SERIALIZE_OUTPUT	1674642000
+MAP	MAP_MEM	237744000
+SPILL	SORT_AND_SPILL	22439737000
+SPILL	QUICK_SORT	13905461000
+SPILL	SORT_COUNT	746678
+SPILL	COMBINE	0
+SPILL	WRITE	8534276000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	24694952
+SPILL	COMPRESS_BYTE_COUNT	7621719
+MERGE	TOTAL_MERGE	1482000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	39335930000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00097	0
+MAP	STARTUP_MEM	216117888
+MAP	SETUP	455000
+MAP	SETUP_MEM	216117888
+MAP	CLEANUP	97000
+MAP	CLEANUP_MEM	216350528
+MAP	TOTAL_RUN	14523660301
+MAP	READ	5575960000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	381423
+MAP	VALUE_BYTE_COUNT	134051840
+MAP	MAP	8752166301
+MAP	WRITE	3978308000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	704385000
+MAP	SERIALIZE_OUTPUT	1661267000
+MAP	MAP_MEM	216350528
+SPILL	SORT_AND_SPILL	23977444000
+SPILL	QUICK_SORT	15376878000
+SPILL	SORT_COUNT	768985
+SPILL	COMBINE	0
+SPILL	WRITE	8600566000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	25938378
+SPILL	COMPRESS_BYTE_COUNT	8031128
+MERGE	TOTAL_MERGE	1452000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	38947534301
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00088	0
+MAP	STARTUP_MEM	215272848
+MAP	SETUP	507000
+MAP	SETUP_MEM	215272848
+MAP	CLEANUP	104000
+MAP	CLEANUP_MEM	216480608
+MAP	TOTAL_RUN	15555736000
+MAP	READ	5477085000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	368725
+MAP	VALUE_BYTE_COUNT	134022324
+MAP	MAP	9879882000
+MAP	WRITE	4070676000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	616042000
+MAP	SERIALIZE_OUTPUT	1795578000
+MAP	MAP_MEM	216480608
+SPILL	SORT_AND_SPILL	23255335000
+SPILL	QUICK_SORT	16256205000
+SPILL	SORT_COUNT	716188
+SPILL	COMBINE	0
+SPILL	WRITE	6999130000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	23899253
+SPILL	COMPRESS_BYTE_COUNT	7497961
+MERGE	TOTAL_MERGE	1758000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	39368593000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00084	0
+MAP	STARTUP_MEM	216117360
+MAP	SETUP	461000
+MAP	SETUP_MEM	216117360
+MAP	CLEANUP	96000
+MAP	CLEANUP_MEM	231359112
+MAP	TOTAL_RUN	15190995000
+MAP	READ	5680829000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	364546
+MAP	VALUE_BYTE_COUNT	134061676
+MAP	MAP	8933253000
+MAP	WRITE	3959731000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	768061000
+MAP	SERIALIZE_OUTPUT	1686900000
+MAP	MAP_MEM	231359112
+SPILL	SORT_AND_SPILL	22125844000
+SPILL	QUICK_SORT	15227006000
+SPILL	SORT_COUNT	740901
+SPILL	COMBINE	0
+SPILL	WRITE	6898838000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	24247871
+SPILL	COMPRESS_BYTE_COUNT	7507012
+MERGE	TOTAL_MERGE	1407000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	37825268000
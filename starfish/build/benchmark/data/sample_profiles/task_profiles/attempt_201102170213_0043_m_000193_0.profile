@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00093	0
+MAP	STARTUP_MEM	215303512
+MAP	SETUP	477000
+MAP	SETUP_MEM	215303512
+MAP	CLEANUP	98000
+MAP	CLEANUP_MEM	242874088
+MAP	TOTAL_RUN	17107998000
+MAP	READ	5888520000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	394142
+MAP	VALUE_BYTE_COUNT	134050747
+MAP	MAP	10993509000
+MAP	WRITE	4831849000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	616362000
+MAP	SERIALIZE_OUTPUT	1849111000
+MAP	MAP_MEM	243436248
+SPILL	SORT_AND_SPILL	23216446000
+SPILL	QUICK_SORT	15017861000
+SPILL	SORT_COUNT	726210
+SPILL	COMBINE	0
+SPILL	WRITE	8198585000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	24276019
+SPILL	COMPRESS_BYTE_COUNT	7677248
+MERGE	TOTAL_MERGE	1502000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	40769958000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00087	0
+MAP	STARTUP_MEM	215300920
+MAP	SETUP	504000
+MAP	SETUP_MEM	215300920
+MAP	CLEANUP	104000
+MAP	CLEANUP_MEM	235381048
+MAP	TOTAL_RUN	16680143391
+MAP	READ	5518429000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	401373
+MAP	VALUE_BYTE_COUNT	134103383
+MAP	MAP	10887345391
+MAP	WRITE	4843562391
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	878916391
+MAP	SERIALIZE_OUTPUT	1833331000
+MAP	MAP_MEM	235381048
+SPILL	SORT_AND_SPILL	26749839000
+SPILL	QUICK_SORT	17101811000
+SPILL	SORT_COUNT	748655
+SPILL	COMBINE	0
+SPILL	WRITE	9648028000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	25146559
+SPILL	COMPRESS_BYTE_COUNT	7834022
+MERGE	TOTAL_MERGE	1732000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	43896566391
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00100	0
+MAP	STARTUP_MEM	215292552
+MAP	SETUP	528000
+MAP	SETUP_MEM	215292552
+MAP	CLEANUP	104000
+MAP	CLEANUP_MEM	235295096
+MAP	TOTAL_RUN	16242509000
+MAP	READ	6458716000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	393414
+MAP	VALUE_BYTE_COUNT	134014442
+MAP	MAP	9523697000
+MAP	WRITE	4256412000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	736470000
+MAP	SERIALIZE_OUTPUT	1655809000
+MAP	MAP_MEM	235295096
+SPILL	SORT_AND_SPILL	24875048000
+SPILL	QUICK_SORT	16118901000
+SPILL	SORT_COUNT	723553
+SPILL	COMBINE	0
+SPILL	WRITE	8756147000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	24713431
+SPILL	COMPRESS_BYTE_COUNT	7784294
+MERGE	TOTAL_MERGE	1878000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	41618687000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00082	0
+MAP	STARTUP_MEM	214644760
+MAP	SETUP	437000
+MAP	SETUP_MEM	214644760
+MAP	CLEANUP	92000
+MAP	CLEANUP_MEM	225588464
+MAP	TOTAL_RUN	15093029000
+MAP	READ	6139817000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	371938
+MAP	VALUE_BYTE_COUNT	133988149
+MAP	MAP	8726650000
+MAP	WRITE	4001628000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	831282000
+MAP	SERIALIZE_OUTPUT	1561302000
+MAP	MAP_MEM	225588464
+SPILL	SORT_AND_SPILL	20767629000
+SPILL	QUICK_SORT	12679405000
+SPILL	SORT_COUNT	726018
+SPILL	COMBINE	0
+SPILL	WRITE	8088224000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	23826439
+SPILL	COMPRESS_BYTE_COUNT	7417732
+MERGE	TOTAL_MERGE	1392000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	36329977000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00086	0
+MAP	STARTUP_MEM	214411128
+MAP	SETUP	445000
+MAP	SETUP_MEM	214411128
+MAP	CLEANUP	104000
+MAP	CLEANUP_MEM	244510744
+MAP	TOTAL_RUN	16876486000
+MAP	READ	5419026000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	419636
+MAP	VALUE_BYTE_COUNT	134033164
+MAP	MAP	11182481000
+MAP	WRITE	5339724000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	943106000
+MAP	SERIALIZE_OUTPUT	2275244000
+MAP	MAP_MEM	244510744
+SPILL	SORT_AND_SPILL	24780838000
+SPILL	QUICK_SORT	16333085000
+SPILL	SORT_COUNT	768892
+SPILL	COMBINE	0
+SPILL	WRITE	8447753000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	25719144
+SPILL	COMPRESS_BYTE_COUNT	7948113
+MERGE	TOTAL_MERGE	1632000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	42188106000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00102	0
+MAP	STARTUP_MEM	214423584
+MAP	SETUP	417000
+MAP	SETUP_MEM	214423584
+MAP	CLEANUP	98000
+MAP	CLEANUP_MEM	223996968
+MAP	TOTAL_RUN	15082083000
+MAP	READ	5830366000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	376796
+MAP	VALUE_BYTE_COUNT	134053443
+MAP	MAP	9060200000
+MAP	WRITE	3630117000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	581704000
+MAP	SERIALIZE_OUTPUT	1511114000
+MAP	MAP_MEM	224852608
+SPILL	SORT_AND_SPILL	22299664000
+SPILL	QUICK_SORT	14640129000
+SPILL	SORT_COUNT	698894
+SPILL	COMBINE	0
+SPILL	WRITE	7659535000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	23974699
+SPILL	COMPRESS_BYTE_COUNT	7525515
+MERGE	TOTAL_MERGE	1589000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	39001881000
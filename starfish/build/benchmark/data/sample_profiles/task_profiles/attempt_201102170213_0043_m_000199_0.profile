@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00099	0
+MAP	STARTUP_MEM	216368096
+MAP	SETUP	482000
+MAP	SETUP_MEM	216368096
+MAP	CLEANUP	182000
+MAP	CLEANUP_MEM	234428136
+MAP	TOTAL_RUN	16220282000
+MAP	READ	7458160000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	383236
+MAP	VALUE_BYTE_COUNT	134048683
+MAP	MAP	8564091000
+MAP	WRITE	4227772000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	902594000
+MAP	SERIALIZE_OUTPUT	1688355000
+MAP	MAP_MEM	234428136
+SPILL	SORT_AND_SPILL	26977866000
+SPILL	QUICK_SORT	14375586000
+SPILL	SORT_COUNT	716288
+SPILL	COMBINE	0
+SPILL	WRITE	12602280000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	24212105
+SPILL	COMPRESS_BYTE_COUNT	7511313
+MERGE	TOTAL_MERGE	2771434000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	49234047000
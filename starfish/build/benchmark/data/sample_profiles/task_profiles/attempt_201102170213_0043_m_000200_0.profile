@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00095	0
+MAP	STARTUP_MEM	214479568
+MAP	SETUP	494000
+MAP	SETUP_MEM	214479568
+MAP	CLEANUP	101000
+MAP	CLEANUP_MEM	240157464
+MAP	TOTAL_RUN	15945017000
+MAP	READ	5552258000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	359485
+MAP	VALUE_BYTE_COUNT	134064567
+MAP	MAP	10206401000
+MAP	WRITE	4107590000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	677294000
+MAP	SERIALIZE_OUTPUT	1751939000
+MAP	MAP_MEM	240719624
+SPILL	SORT_AND_SPILL	21574849000
+SPILL	QUICK_SORT	13807851000
+SPILL	SORT_COUNT	739263
+SPILL	COMBINE	0
+SPILL	WRITE	7766998000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	24877629
+SPILL	COMPRESS_BYTE_COUNT	7552473
+MERGE	TOTAL_MERGE	2311000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	37982343000
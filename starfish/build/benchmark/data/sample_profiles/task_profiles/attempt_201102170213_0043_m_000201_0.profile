@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00098	0
+MAP	STARTUP_MEM	215252704
+MAP	SETUP	712000
+MAP	SETUP_MEM	215252704
+MAP	CLEANUP	99000
+MAP	CLEANUP_MEM	222649304
+MAP	TOTAL_RUN	17640662000
+MAP	READ	5994167000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	369061
+MAP	VALUE_BYTE_COUNT	134099556
+MAP	MAP	11418360000
+MAP	WRITE	4630915000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	650294000
+MAP	SERIALIZE_OUTPUT	1565168000
+MAP	MAP_MEM	222649304
+SPILL	SORT_AND_SPILL	20858840000
+SPILL	QUICK_SORT	14085038000
+SPILL	SORT_COUNT	701133
+SPILL	COMBINE	0
+SPILL	WRITE	6773802000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	23532950
+SPILL	COMPRESS_BYTE_COUNT	7316494
+MERGE	TOTAL_MERGE	1485000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	39075292000
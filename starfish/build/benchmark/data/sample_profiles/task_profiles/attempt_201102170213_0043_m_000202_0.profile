@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00101	0
+MAP	STARTUP_MEM	215327056
+MAP	SETUP	500000
+MAP	SETUP_MEM	215327056
+MAP	CLEANUP	94000
+MAP	CLEANUP_MEM	211785152
+MAP	TOTAL_RUN	18491116000
+MAP	READ	7662403000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	362838
+MAP	VALUE_BYTE_COUNT	134066087
+MAP	MAP	10586338000
+MAP	WRITE	4640919000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	883496000
+MAP	SERIALIZE_OUTPUT	1603214000
+MAP	MAP_MEM	211785152
+SPILL	SORT_AND_SPILL	35627520000
+SPILL	QUICK_SORT	20114777000
+SPILL	SORT_COUNT	676531
+SPILL	COMBINE	0
+SPILL	WRITE	15512743000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	22850785
+SPILL	COMPRESS_BYTE_COUNT	7242462
+MERGE	TOTAL_MERGE	1542000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	55451916000
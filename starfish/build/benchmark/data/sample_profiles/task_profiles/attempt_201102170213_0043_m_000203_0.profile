@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00104	0
+MAP	STARTUP_MEM	214415576
+MAP	SETUP	419000
+MAP	SETUP_MEM	214415576
+MAP	CLEANUP	131000
+MAP	CLEANUP_MEM	221955024
+MAP	TOTAL_RUN	16272855000
+MAP	READ	5968410000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	371987
+MAP	VALUE_BYTE_COUNT	134055887
+MAP	MAP	10100782000
+MAP	WRITE	4491811000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	720027000
+MAP	SERIALIZE_OUTPUT	1968860000
+MAP	MAP_MEM	221955024
+SPILL	SORT_AND_SPILL	23631614000
+SPILL	QUICK_SORT	14362140000
+SPILL	SORT_COUNT	697663
+SPILL	COMBINE	0
+SPILL	WRITE	9269474000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	24003944
+SPILL	COMPRESS_BYTE_COUNT	7365505
+MERGE	TOTAL_MERGE	1586000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	40688607000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00094	0
+MAP	STARTUP_MEM	215519184
+MAP	SETUP	470000
+MAP	SETUP_MEM	215519184
+MAP	CLEANUP	102000
+MAP	CLEANUP_MEM	232915216
+MAP	TOTAL_RUN	17171392000
+MAP	READ	5930393000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	386183
+MAP	VALUE_BYTE_COUNT	134047529
+MAP	MAP	11040726000
+MAP	WRITE	4885040000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	626349000
+MAP	SERIALIZE_OUTPUT	2356416000
+MAP	MAP_MEM	232915216
+SPILL	SORT_AND_SPILL	29454042000
+SPILL	QUICK_SORT	14101476000
+SPILL	SORT_COUNT	715311
+SPILL	COMBINE	0
+SPILL	WRITE	15352566000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	23913011
+SPILL	COMPRESS_BYTE_COUNT	7391028
+MERGE	TOTAL_MERGE	1551000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	49319826000
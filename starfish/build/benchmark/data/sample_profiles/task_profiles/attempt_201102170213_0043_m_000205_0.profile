@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00103	0
+MAP	STARTUP_MEM	215501480
+MAP	SETUP	468000
+MAP	SETUP_MEM	215501480
+MAP	CLEANUP	98000
+MAP	CLEANUP_MEM	228902192
+MAP	TOTAL_RUN	16171992000
+MAP	READ	5709445000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	380485
+MAP	VALUE_BYTE_COUNT	134057164
+MAP	MAP	10261323000
+MAP	WRITE	4377942000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	915626000
+MAP	SERIALIZE_OUTPUT	1747917000
+MAP	MAP_MEM	229563184
+SPILL	SORT_AND_SPILL	23310871000
+SPILL	QUICK_SORT	14692675000
+SPILL	SORT_COUNT	712265
+SPILL	COMBINE	0
+SPILL	WRITE	8618196000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	24673403
+SPILL	COMPRESS_BYTE_COUNT	7642147
+MERGE	TOTAL_MERGE	1843000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	39922090000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00105	0
+MAP	STARTUP_MEM	215493800
+MAP	SETUP	474000
+MAP	SETUP_MEM	215493800
+MAP	CLEANUP	98000
+MAP	CLEANUP_MEM	230471608
+MAP	TOTAL_RUN	16856451000
+MAP	READ	6702009000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	371301
+MAP	VALUE_BYTE_COUNT	134118415
+MAP	MAP	9933320000
+MAP	WRITE	4636161000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1408163000
+MAP	SERIALIZE_OUTPUT	1607913000
+MAP	MAP_MEM	230471608
+SPILL	SORT_AND_SPILL	32621352000
+SPILL	QUICK_SORT	18605526000
+SPILL	SORT_COUNT	729610
+SPILL	COMBINE	0
+SPILL	WRITE	14015826000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	25296390
+SPILL	COMPRESS_BYTE_COUNT	7785677
+MERGE	TOTAL_MERGE	1414000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	50954515000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00083	0
+MAP	STARTUP_MEM	216120304
+MAP	SETUP	473000
+MAP	SETUP_MEM	216120304
+MAP	CLEANUP	92000
+MAP	CLEANUP_MEM	213846544
+MAP	TOTAL_RUN	17243125000
+MAP	READ	6528408000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	353332
+MAP	VALUE_BYTE_COUNT	134065894
+MAP	MAP	10529154000
+MAP	WRITE	3802764000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	696064000
+MAP	SERIALIZE_OUTPUT	1614964000
+MAP	MAP_MEM	214702184
+SPILL	SORT_AND_SPILL	25680757000
+SPILL	QUICK_SORT	15179292000
+SPILL	SORT_COUNT	716622
+SPILL	COMBINE	0
+SPILL	WRITE	10501465000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	23266736
+SPILL	COMPRESS_BYTE_COUNT	7281289
+MERGE	TOTAL_MERGE	1560000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	43864178000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00106	0
+MAP	STARTUP_MEM	215499040
+MAP	SETUP	474000
+MAP	SETUP_MEM	215499040
+MAP	CLEANUP	109000
+MAP	CLEANUP_MEM	240727368
+MAP	TOTAL_RUN	21296754000
+MAP	READ	7868600000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	349559
+MAP	VALUE_BYTE_COUNT	134009637
+MAP	MAP	13242270000
+MAP	WRITE	7670229000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	736135000
+MAP	SERIALIZE_OUTPUT	3791074000
+MAP	MAP_MEM	240727368
+SPILL	SORT_AND_SPILL	34092064000
+SPILL	QUICK_SORT	15783729000
+SPILL	SORT_COUNT	779668
+SPILL	COMBINE	0
+SPILL	WRITE	18308335000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	26557476
+SPILL	COMPRESS_BYTE_COUNT	7611531
+MERGE	TOTAL_MERGE	2529302000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	60361789000
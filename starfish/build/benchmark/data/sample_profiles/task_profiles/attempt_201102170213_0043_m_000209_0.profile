@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00081	0
+MAP	STARTUP_MEM	215275640
+MAP	SETUP	475000
+MAP	SETUP_MEM	215275640
+MAP	CLEANUP	97000
+MAP	CLEANUP_MEM	239099504
+MAP	TOTAL_RUN	15988740000
+MAP	READ	7132376000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	328006
+MAP	VALUE_BYTE_COUNT	134148872
+MAP	MAP	8624153000
+MAP	WRITE	3725905000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	668354000
+MAP	SERIALIZE_OUTPUT	1519341000
+MAP	MAP_MEM	239099504
+SPILL	SORT_AND_SPILL	32365259861
+SPILL	QUICK_SORT	12773423861
+SPILL	SORT_COUNT	684951
+SPILL	COMBINE	0
+SPILL	WRITE	19591836000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	22538259
+SPILL	COMPRESS_BYTE_COUNT	7211021
+MERGE	TOTAL_MERGE	1418000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	50171445861
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00108	0
+MAP	STARTUP_MEM	216119456
+MAP	SETUP	468000
+MAP	SETUP_MEM	216119456
+MAP	CLEANUP	92000
+MAP	CLEANUP_MEM	218234360
+MAP	TOTAL_RUN	20335078861
+MAP	READ	8465580000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	367808
+MAP	VALUE_BYTE_COUNT	134059973
+MAP	MAP	11572631861
+MAP	WRITE	4718771861
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	686428000
+MAP	SERIALIZE_OUTPUT	1752575000
+MAP	MAP_MEM	218234360
+SPILL	SORT_AND_SPILL	44590633000
+SPILL	QUICK_SORT	19132412000
+SPILL	SORT_COUNT	697258
+SPILL	COMBINE	0
+SPILL	WRITE	25458221000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	23873317
+SPILL	COMPRESS_BYTE_COUNT	7177681
+MERGE	TOTAL_MERGE	1427000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	70231968861
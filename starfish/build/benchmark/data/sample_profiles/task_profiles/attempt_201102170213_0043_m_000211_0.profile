@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00109	0
+MAP	STARTUP_MEM	216179008
+MAP	SETUP	479000
+MAP	SETUP_MEM	216179008
+MAP	CLEANUP	93000
+MAP	CLEANUP_MEM	227559744
+MAP	TOTAL_RUN	17118292000
+MAP	READ	6117987000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	369789
+MAP	VALUE_BYTE_COUNT	134059179
+MAP	MAP	10800567000
+MAP	WRITE	5071255000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	707720000
+MAP	SERIALIZE_OUTPUT	1783269000
+MAP	MAP_MEM	227559744
+SPILL	SORT_AND_SPILL	38971840000
+SPILL	QUICK_SORT	20558087000
+SPILL	SORT_COUNT	793023
+SPILL	COMBINE	0
+SPILL	WRITE	18413753000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	26810254
+SPILL	COMPRESS_BYTE_COUNT	7865956
+MERGE	TOTAL_MERGE	1464000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	57531529000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00092	0
+MAP	STARTUP_MEM	215276072
+MAP	SETUP	553000
+MAP	SETUP_MEM	215276072
+MAP	CLEANUP	105000
+MAP	CLEANUP_MEM	213608192
+MAP	TOTAL_RUN	15524563000
+MAP	READ	5524972000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	382879
+MAP	VALUE_BYTE_COUNT	134056574
+MAP	MAP	9705379000
+MAP	WRITE	4682492000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	867369000
+MAP	SERIALIZE_OUTPUT	1686915000
+MAP	MAP_MEM	213608192
+SPILL	SORT_AND_SPILL	22500880000
+SPILL	QUICK_SORT	13806782000
+SPILL	SORT_COUNT	686329
+SPILL	COMBINE	0
+SPILL	WRITE	8694098000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	22991033
+SPILL	COMPRESS_BYTE_COUNT	7178386
+MERGE	TOTAL_MERGE	1654000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	38503202000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00112	0
+MAP	STARTUP_MEM	214419704
+MAP	SETUP	452000
+MAP	SETUP_MEM	214419704
+MAP	CLEANUP	98000
+MAP	CLEANUP_MEM	225558200
+MAP	TOTAL_RUN	16614390391
+MAP	READ	6179104391
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	359674
+MAP	VALUE_BYTE_COUNT	134063100
+MAP	MAP	10195175000
+MAP	WRITE	4613366000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	737328000
+MAP	SERIALIZE_OUTPUT	1750602000
+MAP	MAP_MEM	225558200
+SPILL	SORT_AND_SPILL	21667176000
+SPILL	QUICK_SORT	15020522000
+SPILL	SORT_COUNT	696078
+SPILL	COMBINE	0
+SPILL	WRITE	6646654000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	24021301
+SPILL	COMPRESS_BYTE_COUNT	7050898
+MERGE	TOTAL_MERGE	1758000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	38740911391
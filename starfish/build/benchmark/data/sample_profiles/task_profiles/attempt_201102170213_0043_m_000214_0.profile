@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00110	0
+MAP	STARTUP_MEM	216139712
+MAP	SETUP	470000
+MAP	SETUP_MEM	216139712
+MAP	CLEANUP	96000
+MAP	CLEANUP_MEM	217523344
+MAP	TOTAL_RUN	16127279000
+MAP	READ	7198100000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	366212
+MAP	VALUE_BYTE_COUNT	134081384
+MAP	MAP	8693507000
+MAP	WRITE	3503469000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	598359000
+MAP	SERIALIZE_OUTPUT	1452101000
+MAP	MAP_MEM	218378984
+SPILL	SORT_AND_SPILL	43837126000
+SPILL	QUICK_SORT	19457097000
+SPILL	SORT_COUNT	686669
+SPILL	COMBINE	0
+SPILL	WRITE	24380029000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	23736813
+SPILL	COMPRESS_BYTE_COUNT	7051163
+MERGE	TOTAL_MERGE	1424000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	62914860000
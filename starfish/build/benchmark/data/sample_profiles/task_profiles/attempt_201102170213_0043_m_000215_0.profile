@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00118	0
+MAP	STARTUP_MEM	215579528
+MAP	SETUP	537000
+MAP	SETUP_MEM	215579528
+MAP	CLEANUP	104000
+MAP	CLEANUP_MEM	225899032
+MAP	TOTAL_RUN	16452127000
+MAP	READ	6062362000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	395962
+MAP	VALUE_BYTE_COUNT	134047937
+MAP	MAP	10136996000
+MAP	WRITE	4795532000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	703223000
+MAP	SERIALIZE_OUTPUT	2241547000
+MAP	MAP_MEM	225899032
+SPILL	SORT_AND_SPILL	26119892000
+SPILL	QUICK_SORT	16918819000
+SPILL	SORT_COUNT	718578
+SPILL	COMBINE	0
+SPILL	WRITE	9201073000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	24300577
+SPILL	COMPRESS_BYTE_COUNT	7320605
+MERGE	TOTAL_MERGE	1613000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	43108387000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00111	0
+MAP	STARTUP_MEM	214443904
+MAP	SETUP	490000
+MAP	SETUP_MEM	214443904
+MAP	CLEANUP	97000
+MAP	CLEANUP_MEM	226528080
+MAP	TOTAL_RUN	16448945000
+MAP	READ	5582201000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	474355
+MAP	VALUE_BYTE_COUNT	133994404
+MAP	MAP	10557544000
+MAP	WRITE	5694146000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	775200000
+MAP	SERIALIZE_OUTPUT	2954098000
+MAP	MAP_MEM	226528080
+SPILL	SORT_AND_SPILL	26931021000
+SPILL	QUICK_SORT	17855580000
+SPILL	SORT_COUNT	747626
+SPILL	COMBINE	0
+SPILL	WRITE	9075441000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	25540829
+SPILL	COMPRESS_BYTE_COUNT	7800134
+MERGE	TOTAL_MERGE	1560000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	43950849000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00107	0
+MAP	STARTUP_MEM	214669360
+MAP	SETUP	430000
+MAP	SETUP_MEM	214669360
+MAP	CLEANUP	102000
+MAP	CLEANUP_MEM	215056136
+MAP	TOTAL_RUN	15873987000
+MAP	READ	6095867000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	335804
+MAP	VALUE_BYTE_COUNT	134070335
+MAP	MAP	9597975000
+MAP	WRITE	4545825000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	571709000
+MAP	SERIALIZE_OUTPUT	1738889000
+MAP	MAP_MEM	215911776
+SPILL	SORT_AND_SPILL	21958163000
+SPILL	QUICK_SORT	15462729000
+SPILL	SORT_COUNT	681502
+SPILL	COMBINE	0
+SPILL	WRITE	6495434000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	23323352
+SPILL	COMPRESS_BYTE_COUNT	6878363
+MERGE	TOTAL_MERGE	1653000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	38326397000
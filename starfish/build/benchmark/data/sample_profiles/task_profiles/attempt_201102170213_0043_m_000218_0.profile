@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00113	0
+MAP	STARTUP_MEM	215294304
+MAP	SETUP	529000
+MAP	SETUP_MEM	215294304
+MAP	CLEANUP	108000
+MAP	CLEANUP_MEM	238605480
+MAP	TOTAL_RUN	19159741000
+MAP	READ	6992294000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	359576
+MAP	VALUE_BYTE_COUNT	134087744
+MAP	MAP	11927160000
+MAP	WRITE	5405910000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	996908000
+MAP	SERIALIZE_OUTPUT	1841570000
+MAP	MAP_MEM	238605480
+SPILL	SORT_AND_SPILL	27883632000
+SPILL	QUICK_SORT	15275976000
+SPILL	SORT_COUNT	667443
+SPILL	COMBINE	0
+SPILL	WRITE	12607656000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	23000617
+SPILL	COMPRESS_BYTE_COUNT	7056479
+MERGE	TOTAL_MERGE	1660000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	47889269000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00157	0
+MAP	STARTUP_MEM	215242264
+MAP	SETUP	500000
+MAP	SETUP_MEM	215242264
+MAP	CLEANUP	98000
+MAP	CLEANUP_MEM	237088552
+MAP	TOTAL_RUN	13989902000
+MAP	READ	5815828000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	363104
+MAP	VALUE_BYTE_COUNT	134057803
+MAP	MAP	7962234000
+MAP	WRITE	3659665000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	620063000
+MAP	SERIALIZE_OUTPUT	1487849000
+MAP	MAP_MEM	237650712
+SPILL	SORT_AND_SPILL	19206754000
+SPILL	QUICK_SORT	12306812000
+SPILL	SORT_COUNT	650667
+SPILL	COMBINE	0
+SPILL	WRITE	6899942000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	22487482
+SPILL	COMPRESS_BYTE_COUNT	6825233
+MERGE	TOTAL_MERGE	1606000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	33653250000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00126	0
+MAP	STARTUP_MEM	216158112
+MAP	SETUP	468000
+MAP	SETUP_MEM	216158112
+MAP	CLEANUP	98000
+MAP	CLEANUP_MEM	214844424
+MAP	TOTAL_RUN	15776010000
+MAP	READ	5240045000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	390628
+MAP	VALUE_BYTE_COUNT	134076994
+MAP	MAP	10280282000
+MAP	WRITE	4439946000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	581985000
+MAP	SERIALIZE_OUTPUT	2377322000
+MAP	MAP_MEM	214844424
+SPILL	SORT_AND_SPILL	31553127000
+SPILL	QUICK_SORT	14364841000
+SPILL	SORT_COUNT	679716
+SPILL	COMBINE	0
+SPILL	WRITE	17188286000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	23465406
+SPILL	COMPRESS_BYTE_COUNT	7025668
+MERGE	TOTAL_MERGE	1420000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	47848944000
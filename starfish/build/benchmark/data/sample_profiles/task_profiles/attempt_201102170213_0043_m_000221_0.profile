@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00156	0
+MAP	STARTUP_MEM	216379544
+MAP	SETUP	487000
+MAP	SETUP_MEM	216379544
+MAP	CLEANUP	111000
+MAP	CLEANUP_MEM	238336280
+MAP	TOTAL_RUN	23973002000
+MAP	READ	7472198000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	362376
+MAP	VALUE_BYTE_COUNT	133975362
+MAP	MAP	16249705000
+MAP	WRITE	8037074000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1476328000
+MAP	SERIALIZE_OUTPUT	2073140000
+MAP	MAP_MEM	238336280
+SPILL	SORT_AND_SPILL	25520487000
+SPILL	QUICK_SORT	16036891000
+SPILL	SORT_COUNT	639729
+SPILL	COMBINE	0
+SPILL	WRITE	9483596000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	22350763
+SPILL	COMPRESS_BYTE_COUNT	6746881
+MERGE	TOTAL_MERGE	1743000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	50133911000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00122	0
+MAP	STARTUP_MEM	215262784
+MAP	SETUP	614000
+MAP	SETUP_MEM	215262784
+MAP	CLEANUP	100000
+MAP	CLEANUP_MEM	223602520
+MAP	TOTAL_RUN	16668986000
+MAP	READ	5769441000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	379750
+MAP	VALUE_BYTE_COUNT	134056193
+MAP	MAP	10635645000
+MAP	WRITE	4364681000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	732574000
+MAP	SERIALIZE_OUTPUT	1577728000
+MAP	MAP_MEM	223602520
+SPILL	SORT_AND_SPILL	31210431667
+SPILL	QUICK_SORT	13655435667
+SPILL	SORT_COUNT	616117
+SPILL	COMBINE	0
+SPILL	WRITE	17554996000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	21391675
+SPILL	COMPRESS_BYTE_COUNT	6576633
+MERGE	TOTAL_MERGE	301504000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	49476983667
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00117	0
+MAP	STARTUP_MEM	214455528
+MAP	SETUP	418000
+MAP	SETUP_MEM	214455528
+MAP	CLEANUP	89000
+MAP	CLEANUP_MEM	216473920
+MAP	TOTAL_RUN	21965417000
+MAP	READ	7724506000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	410508
+MAP	VALUE_BYTE_COUNT	134037371
+MAP	MAP	13975117000
+MAP	WRITE	8597858000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	760289000
+MAP	SERIALIZE_OUTPUT	2988342000
+MAP	MAP_MEM	216473920
+SPILL	SORT_AND_SPILL	30513695000
+SPILL	QUICK_SORT	18910685000
+SPILL	SORT_COUNT	765599
+SPILL	COMBINE	0
+SPILL	WRITE	11603010000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	25876696
+SPILL	COMPRESS_BYTE_COUNT	7666122
+MERGE	TOTAL_MERGE	1591000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	53149431000
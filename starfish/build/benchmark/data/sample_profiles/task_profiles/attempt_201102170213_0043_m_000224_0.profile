@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00123	0
+MAP	STARTUP_MEM	215559704
+MAP	SETUP	481000
+MAP	SETUP_MEM	215559704
+MAP	CLEANUP	96000
+MAP	CLEANUP_MEM	235377136
+MAP	TOTAL_RUN	22735470000
+MAP	READ	10070012000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	407603
+MAP	VALUE_BYTE_COUNT	134068470
+MAP	MAP	12068247000
+MAP	WRITE	6608679000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	2753492000
+MAP	SERIALIZE_OUTPUT	2105841000
+MAP	MAP_MEM	235377136
+SPILL	SORT_AND_SPILL	35263687000
+SPILL	QUICK_SORT	20335777000
+SPILL	SORT_COUNT	637830
+SPILL	COMBINE	0
+SPILL	WRITE	14927910000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	22358726
+SPILL	COMPRESS_BYTE_COUNT	6852786
+MERGE	TOTAL_MERGE	1921000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	61336198000
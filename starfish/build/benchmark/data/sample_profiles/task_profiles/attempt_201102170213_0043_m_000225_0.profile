@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00133	0
+MAP	STARTUP_MEM	215292816
+MAP	SETUP	507000
+MAP	SETUP_MEM	215292816
+MAP	CLEANUP	181000
+MAP	CLEANUP_MEM	234521632
+MAP	TOTAL_RUN	16951684667
+MAP	READ	6507525000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	371686
+MAP	VALUE_BYTE_COUNT	134058128
+MAP	MAP	10111786667
+MAP	WRITE	4462997000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	827670000
+MAP	SERIALIZE_OUTPUT	1594761000
+MAP	MAP_MEM	235083792
+SPILL	SORT_AND_SPILL	27159690000
+SPILL	QUICK_SORT	16169436000
+SPILL	SORT_COUNT	655305
+SPILL	COMBINE	0
+SPILL	WRITE	10990254000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	23149013
+SPILL	COMPRESS_BYTE_COUNT	6908292
+MERGE	TOTAL_MERGE	1768000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	44984236667
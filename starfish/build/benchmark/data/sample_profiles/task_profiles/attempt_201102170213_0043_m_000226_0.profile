@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00178	0
+MAP	STARTUP_MEM	214458984
+MAP	SETUP	437000
+MAP	SETUP_MEM	214458984
+MAP	CLEANUP	96000
+MAP	CLEANUP_MEM	230830112
+MAP	TOTAL_RUN	16795243000
+MAP	READ	5555245000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	380926
+MAP	VALUE_BYTE_COUNT	134054649
+MAP	MAP	10964996000
+MAP	WRITE	4593243000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	903516000
+MAP	SERIALIZE_OUTPUT	1502224000
+MAP	MAP_MEM	230830112
+SPILL	SORT_AND_SPILL	20602789000
+SPILL	QUICK_SORT	11821194000
+SPILL	SORT_COUNT	625022
+SPILL	COMBINE	0
+SPILL	WRITE	8781595000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	21903518
+SPILL	COMPRESS_BYTE_COUNT	6632980
+MERGE	TOTAL_MERGE	103462000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	38734365000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00144	0
+MAP	STARTUP_MEM	214436936
+MAP	SETUP	470000
+MAP	SETUP_MEM	214436936
+MAP	CLEANUP	102000
+MAP	CLEANUP_MEM	243775464
+MAP	TOTAL_RUN	15410307000
+MAP	READ	5489389000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	356496
+MAP	VALUE_BYTE_COUNT	134014551
+MAP	MAP	9728345000
+MAP	WRITE	4044974000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	656409000
+MAP	SERIALIZE_OUTPUT	1978507000
+MAP	MAP_MEM	243775464
+SPILL	SORT_AND_SPILL	22914312000
+SPILL	QUICK_SORT	15069632000
+SPILL	SORT_COUNT	671163
+SPILL	COMBINE	0
+SPILL	WRITE	7844680000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	23498398
+SPILL	COMPRESS_BYTE_COUNT	7161146
+MERGE	TOTAL_MERGE	1970000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	42449265000
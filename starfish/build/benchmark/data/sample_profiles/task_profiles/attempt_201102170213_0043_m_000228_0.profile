@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00146	0
+MAP	STARTUP_MEM	216141848
+MAP	SETUP	473000
+MAP	SETUP_MEM	216141848
+MAP	CLEANUP	97000
+MAP	CLEANUP_MEM	243713568
+MAP	TOTAL_RUN	13877334000
+MAP	READ	5273359000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	368543
+MAP	VALUE_BYTE_COUNT	134225371
+MAP	MAP	8400443000
+MAP	WRITE	3666218000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	661527000
+MAP	SERIALIZE_OUTPUT	1510494000
+MAP	MAP_MEM	243713568
+SPILL	SORT_AND_SPILL	18518315000
+SPILL	QUICK_SORT	12324585000
+SPILL	SORT_COUNT	665417
+SPILL	COMBINE	0
+SPILL	WRITE	6193730000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	22888816
+SPILL	COMPRESS_BYTE_COUNT	6880352
+MERGE	TOTAL_MERGE	1583000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	32832761000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00010	0
+MAP	STARTUP_MEM	214687784
+MAP	SETUP	436000
+MAP	SETUP_MEM	214687784
+MAP	CLEANUP	97000
+MAP	CLEANUP_MEM	230463072
+MAP	TOTAL_RUN	22484820000
+MAP	READ	7388562000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	88026
+MAP	VALUE_BYTE_COUNT	134171134
+MAP	MAP	15022856000
+MAP	WRITE	9676737000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	960870000
+MAP	SERIALIZE_OUTPUT	2553117000
+MAP	MAP_MEM	231318712
+SPILL	SORT_AND_SPILL	25962408000
+SPILL	QUICK_SORT	13820733000
+SPILL	SORT_COUNT	781394
+SPILL	COMBINE	0
+SPILL	WRITE	12141675000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	25398734
+SPILL	COMPRESS_BYTE_COUNT	5891107
+MERGE	TOTAL_MERGE	2054000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	51541039000
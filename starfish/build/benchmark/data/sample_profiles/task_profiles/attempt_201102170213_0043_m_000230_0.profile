@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00148	0
+MAP	STARTUP_MEM	216371208
+MAP	SETUP	464000
+MAP	SETUP_MEM	216371208
+MAP	CLEANUP	99000
+MAP	CLEANUP_MEM	246831480
+MAP	TOTAL_RUN	22884339000
+MAP	READ	9366169000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	391622
+MAP	VALUE_BYTE_COUNT	134047883
+MAP	MAP	13311279000
+MAP	WRITE	5093869000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	673724000
+MAP	SERIALIZE_OUTPUT	2665005000
+MAP	MAP_MEM	246831480
+SPILL	SORT_AND_SPILL	39892624000
+SPILL	QUICK_SORT	18080380000
+SPILL	SORT_COUNT	737540
+SPILL	COMBINE	0
+SPILL	WRITE	21812244000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	25656053
+SPILL	COMPRESS_BYTE_COUNT	7546177
+MERGE	TOTAL_MERGE	1304002000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	66971243000
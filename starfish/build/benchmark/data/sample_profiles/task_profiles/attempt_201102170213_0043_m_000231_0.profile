@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00121	0
+MAP	STARTUP_MEM	216119272
+MAP	SETUP	493000
+MAP	SETUP_MEM	216119272
+MAP	CLEANUP	100000
+MAP	CLEANUP_MEM	241422544
+MAP	TOTAL_RUN	16024712000
+MAP	READ	5946126000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	362110
+MAP	VALUE_BYTE_COUNT	134052475
+MAP	MAP	9893792000
+MAP	WRITE	4251245000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1191491000
+MAP	SERIALIZE_OUTPUT	1404647000
+MAP	MAP_MEM	241422544
+SPILL	SORT_AND_SPILL	28684241000
+SPILL	QUICK_SORT	15255048000
+SPILL	SORT_COUNT	653608
+SPILL	COMBINE	0
+SPILL	WRITE	13429193000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	22708235
+SPILL	COMPRESS_BYTE_COUNT	6840921
+MERGE	TOTAL_MERGE	1441000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	47223350000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00147	0
+MAP	STARTUP_MEM	215308688
+MAP	SETUP	514000
+MAP	SETUP_MEM	215308688
+MAP	CLEANUP	100000
+MAP	CLEANUP_MEM	245776432
+MAP	TOTAL_RUN	36188031000
+MAP	READ	15291010000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	371490
+MAP	VALUE_BYTE_COUNT	133888273
+MAP	MAP	20505062000
+MAP	WRITE	10544246000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	3052062000
+MAP	SERIALIZE_OUTPUT	4099771000
+MAP	MAP_MEM	245776432
+SPILL	SORT_AND_SPILL	37116171000
+SPILL	QUICK_SORT	25160077000
+SPILL	SORT_COUNT	664039
+SPILL	COMBINE	0
+SPILL	WRITE	11956094000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	23151590
+SPILL	COMPRESS_BYTE_COUNT	7066729
+MERGE	TOTAL_MERGE	101723000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	74160234000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00201	0
+MAP	STARTUP_MEM	214397432
+MAP	SETUP	468000
+MAP	SETUP_MEM	214397432
+MAP	CLEANUP	104000
+MAP	CLEANUP_MEM	221142632
+MAP	TOTAL_RUN	23398924223
+MAP	READ	7531802000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	373835
+MAP	VALUE_BYTE_COUNT	134110983
+MAP	MAP	14985944223
+MAP	WRITE	7058632000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	764870000
+MAP	SERIALIZE_OUTPUT	2514621000
+MAP	MAP_MEM	221142632
+SPILL	SORT_AND_SPILL	22237865000
+SPILL	QUICK_SORT	16167681000
+SPILL	SORT_COUNT	605095
+SPILL	COMBINE	0
+SPILL	WRITE	6070184000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	21549343
+SPILL	COMPRESS_BYTE_COUNT	6692599
+MERGE	TOTAL_MERGE	1679000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	46686032223
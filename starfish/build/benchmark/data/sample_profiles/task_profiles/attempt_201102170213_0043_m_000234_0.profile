@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00143	0
+MAP	STARTUP_MEM	214648416
+MAP	SETUP	474000
+MAP	SETUP_MEM	214648416
+MAP	CLEANUP	101000
+MAP	CLEANUP_MEM	224121128
+MAP	TOTAL_RUN	33575180000
+MAP	READ	17481234000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	367542
+MAP	VALUE_BYTE_COUNT	134110754
+MAP	MAP	15865797000
+MAP	WRITE	6743590000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	3479179000
+MAP	SERIALIZE_OUTPUT	1547055000
+MAP	MAP_MEM	224121128
+SPILL	SORT_AND_SPILL	22457104000
+SPILL	QUICK_SORT	13991702000
+SPILL	SORT_COUNT	611623
+SPILL	COMBINE	0
+SPILL	WRITE	8465402000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	21245941
+SPILL	COMPRESS_BYTE_COUNT	6542969
+MERGE	TOTAL_MERGE	1484000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	59718676000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00142	0
+MAP	STARTUP_MEM	216087872
+MAP	SETUP	502000
+MAP	SETUP_MEM	216087872
+MAP	CLEANUP	89000
+MAP	CLEANUP_MEM	226958480
+MAP	TOTAL_RUN	14810241000
+MAP	READ	5732674000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	371791
+MAP	VALUE_BYTE_COUNT	134059103
+MAP	MAP	8881473000
+MAP	WRITE	3712992000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	799658000
+MAP	SERIALIZE_OUTPUT	1324808000
+MAP	MAP_MEM	226958480
+SPILL	SORT_AND_SPILL	19046660000
+SPILL	QUICK_SORT	11346588000
+SPILL	SORT_COUNT	621057
+SPILL	COMBINE	0
+SPILL	WRITE	7700072000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	21554319
+SPILL	COMPRESS_BYTE_COUNT	6613722
+MERGE	TOTAL_MERGE	1759000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	36871196000
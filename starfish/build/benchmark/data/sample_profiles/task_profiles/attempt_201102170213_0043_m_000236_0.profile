@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00163	0
+MAP	STARTUP_MEM	215225520
+MAP	SETUP	473000
+MAP	SETUP_MEM	215225520
+MAP	CLEANUP	92000
+MAP	CLEANUP_MEM	237882968
+MAP	TOTAL_RUN	22529778000
+MAP	READ	9118337000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	352338
+MAP	VALUE_BYTE_COUNT	134033497
+MAP	MAP	12827590000
+MAP	WRITE	4664068000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	593915000
+MAP	SERIALIZE_OUTPUT	1269717000
+MAP	MAP_MEM	237882968
+SPILL	SORT_AND_SPILL	19453606000
+SPILL	QUICK_SORT	12765343000
+SPILL	SORT_COUNT	583795
+SPILL	COMBINE	0
+SPILL	WRITE	6688263000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	20489049
+SPILL	COMPRESS_BYTE_COUNT	6318988
+MERGE	TOTAL_MERGE	1656000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	42897687000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00145	0
+MAP	STARTUP_MEM	216007552
+MAP	SETUP	421000
+MAP	SETUP_MEM	216007552
+MAP	CLEANUP	93000
+MAP	CLEANUP_MEM	224865472
+MAP	TOTAL_RUN	22157139000
+MAP	READ	9700902000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	363356
+MAP	VALUE_BYTE_COUNT	134067544
+MAP	MAP	12266031000
+MAP	WRITE	4839844000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	664257000
+MAP	SERIALIZE_OUTPUT	1127616000
+MAP	MAP_MEM	224865472
+SPILL	SORT_AND_SPILL	33354628000
+SPILL	QUICK_SORT	19904447000
+SPILL	SORT_COUNT	640369
+SPILL	COMBINE	0
+SPILL	WRITE	13450181000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	22222977
+SPILL	COMPRESS_BYTE_COUNT	6581155
+MERGE	TOTAL_MERGE	1418000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	56334744000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00119	0
+MAP	STARTUP_MEM	215259320
+MAP	SETUP	475000
+MAP	SETUP_MEM	215259320
+MAP	CLEANUP	119000
+MAP	CLEANUP_MEM	228315704
+MAP	TOTAL_RUN	18364354223
+MAP	READ	6371844000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	376565
+MAP	VALUE_BYTE_COUNT	134714351
+MAP	MAP	11749390223
+MAP	WRITE	4759369000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	858804000
+MAP	SERIALIZE_OUTPUT	1630202000
+MAP	MAP_MEM	228315704
+SPILL	SORT_AND_SPILL	26108261000
+SPILL	QUICK_SORT	13931616000
+SPILL	SORT_COUNT	666658
+SPILL	COMBINE	0
+SPILL	WRITE	12176645000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	22609029
+SPILL	COMPRESS_BYTE_COUNT	6698796
+MERGE	TOTAL_MERGE	1647000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	45762859223
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00138	0
+MAP	STARTUP_MEM	215274160
+MAP	SETUP	512000
+MAP	SETUP_MEM	215274160
+MAP	CLEANUP	99000
+MAP	CLEANUP_MEM	223003096
+MAP	TOTAL_RUN	25366139000
+MAP	READ	10197281000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	374570
+MAP	VALUE_BYTE_COUNT	134038248
+MAP	MAP	14090330000
+MAP	WRITE	8137678000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	2295471000
+MAP	SERIALIZE_OUTPUT	2618141000
+MAP	MAP_MEM	223003096
+SPILL	SORT_AND_SPILL	25441550000
+SPILL	QUICK_SORT	16798130000
+SPILL	SORT_COUNT	617803
+SPILL	COMBINE	0
+SPILL	WRITE	8643420000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	21530827
+SPILL	COMPRESS_BYTE_COUNT	6343984
+MERGE	TOTAL_MERGE	1635000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	52049775000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00124	0
+MAP	STARTUP_MEM	214398264
+MAP	SETUP	458000
+MAP	SETUP_MEM	214398264
+MAP	CLEANUP	103000
+MAP	CLEANUP_MEM	240233696
+MAP	TOTAL_RUN	17543937000
+MAP	READ	6520186000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	374535
+MAP	VALUE_BYTE_COUNT	134114752
+MAP	MAP	10803357000
+MAP	WRITE	5548223000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1196180000
+MAP	SERIALIZE_OUTPUT	2453795000
+MAP	MAP_MEM	240233696
+SPILL	SORT_AND_SPILL	27477772000
+SPILL	QUICK_SORT	15885282000
+SPILL	SORT_COUNT	652909
+SPILL	COMBINE	0
+SPILL	WRITE	11592490000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	22913113
+SPILL	COMPRESS_BYTE_COUNT	6647600
+MERGE	TOTAL_MERGE	1397000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	45540041000
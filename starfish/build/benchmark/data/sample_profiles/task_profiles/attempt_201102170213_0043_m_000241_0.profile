@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00152	0
+MAP	STARTUP_MEM	215303808
+MAP	SETUP	534000
+MAP	SETUP_MEM	215303808
+MAP	CLEANUP	105000
+MAP	CLEANUP_MEM	219527240
+MAP	TOTAL_RUN	27730123000
+MAP	READ	9851709000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	382627
+MAP	VALUE_BYTE_COUNT	134055787
+MAP	MAP	17627844000
+MAP	WRITE	9603297000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1926765000
+MAP	SERIALIZE_OUTPUT	3061887000
+MAP	MAP_MEM	219527240
+SPILL	SORT_AND_SPILL	44881291000
+SPILL	QUICK_SORT	21996852000
+SPILL	SORT_COUNT	681043
+SPILL	COMBINE	0
+SPILL	WRITE	22884439000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	23816600
+SPILL	COMPRESS_BYTE_COUNT	7036872
+MERGE	TOTAL_MERGE	1491000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	74440412000
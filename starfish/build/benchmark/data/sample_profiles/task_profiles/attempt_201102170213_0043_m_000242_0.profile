@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00200	0
+MAP	STARTUP_MEM	215546576
+MAP	SETUP	485000
+MAP	SETUP_MEM	215546576
+MAP	CLEANUP	90000
+MAP	CLEANUP_MEM	228526208
+MAP	TOTAL_RUN	33637504000
+MAP	READ	11596503000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	376089
+MAP	VALUE_BYTE_COUNT	134056212
+MAP	MAP	21822132000
+MAP	WRITE	7510580000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	585143000
+MAP	SERIALIZE_OUTPUT	1426740000
+MAP	MAP_MEM	228526208
+SPILL	SORT_AND_SPILL	23427665000
+SPILL	QUICK_SORT	14317846000
+SPILL	SORT_COUNT	634973
+SPILL	COMBINE	0
+SPILL	WRITE	9109819000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	22699706
+SPILL	COMPRESS_BYTE_COUNT	7019723
+MERGE	TOTAL_MERGE	1451000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	59050895000
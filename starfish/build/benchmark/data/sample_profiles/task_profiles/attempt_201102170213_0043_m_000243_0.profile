@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00188	0
+MAP	STARTUP_MEM	215301592
+MAP	SETUP	552000
+MAP	SETUP_MEM	215301592
+MAP	CLEANUP	102000
+MAP	CLEANUP_MEM	216974184
+MAP	TOTAL_RUN	16671616000
+MAP	READ	7210899000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	366142
+MAP	VALUE_BYTE_COUNT	134081842
+MAP	MAP	9265646000
+MAP	WRITE	3011790000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	569072000
+MAP	SERIALIZE_OUTPUT	1102396000
+MAP	MAP_MEM	216974184
+SPILL	SORT_AND_SPILL	22774603000
+SPILL	QUICK_SORT	13426102000
+SPILL	SORT_COUNT	594976
+SPILL	COMBINE	0
+SPILL	WRITE	9348501000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	20783504
+SPILL	COMPRESS_BYTE_COUNT	6308528
+MERGE	TOTAL_MERGE	1586000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	40391390000
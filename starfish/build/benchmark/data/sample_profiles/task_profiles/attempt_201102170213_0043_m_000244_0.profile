@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00127	0
+MAP	STARTUP_MEM	214392648
+MAP	SETUP	420000
+MAP	SETUP_MEM	214392648
+MAP	CLEANUP	98000
+MAP	CLEANUP_MEM	226683752
+MAP	TOTAL_RUN	22150972000
+MAP	READ	9352853000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	371959
+MAP	VALUE_BYTE_COUNT	134173065
+MAP	MAP	12590989000
+MAP	WRITE	4819916000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	785151000
+MAP	SERIALIZE_OUTPUT	2474752000
+MAP	MAP_MEM	226683752
+SPILL	SORT_AND_SPILL	25483911000
+SPILL	QUICK_SORT	13668037000
+SPILL	SORT_COUNT	642304
+SPILL	COMBINE	0
+SPILL	WRITE	11815874000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	22503196
+SPILL	COMPRESS_BYTE_COUNT	6824161
+MERGE	TOTAL_MERGE	1797000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	49133095000
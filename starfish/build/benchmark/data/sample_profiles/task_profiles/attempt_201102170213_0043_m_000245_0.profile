@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00161	0
+MAP	STARTUP_MEM	215273344
+MAP	SETUP	550000
+MAP	SETUP_MEM	215273344
+MAP	CLEANUP	100000
+MAP	CLEANUP_MEM	210971120
+MAP	TOTAL_RUN	22016484000
+MAP	READ	6697346000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	361445
+MAP	VALUE_BYTE_COUNT	134045073
+MAP	MAP	14920065000
+MAP	WRITE	6063504000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1438249000
+MAP	SERIALIZE_OUTPUT	2454176000
+MAP	MAP_MEM	211957312
+SPILL	SORT_AND_SPILL	22589075818
+SPILL	QUICK_SORT	12754632818
+SPILL	SORT_COUNT	609428
+SPILL	COMBINE	0
+SPILL	WRITE	9834443000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	21403093
+SPILL	COMPRESS_BYTE_COUNT	6446666
+MERGE	TOTAL_MERGE	2131000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	45405207818
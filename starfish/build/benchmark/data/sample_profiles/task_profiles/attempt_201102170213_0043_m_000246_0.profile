@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00129	0
+MAP	STARTUP_MEM	215551944
+MAP	SETUP	497000
+MAP	SETUP_MEM	215551944
+MAP	CLEANUP	100000
+MAP	CLEANUP_MEM	232543896
+MAP	TOTAL_RUN	13169448000
+MAP	READ	5157492000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	334929
+MAP	VALUE_BYTE_COUNT	134081474
+MAP	MAP	7830759000
+MAP	WRITE	3239661000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	570024000
+MAP	SERIALIZE_OUTPUT	1334853000
+MAP	MAP_MEM	233711448
+SPILL	SORT_AND_SPILL	28251103000
+SPILL	QUICK_SORT	13303199000
+SPILL	SORT_COUNT	588949
+SPILL	COMBINE	0
+SPILL	WRITE	14947904000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	20548965
+SPILL	COMPRESS_BYTE_COUNT	6356511
+MERGE	TOTAL_MERGE	1497000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	43440606000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00130	0
+MAP	STARTUP_MEM	215318032
+MAP	SETUP	488000
+MAP	SETUP_MEM	215318032
+MAP	CLEANUP	94000
+MAP	CLEANUP_MEM	212260864
+MAP	TOTAL_RUN	31724754818
+MAP	READ	10949918818
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	329553
+MAP	VALUE_BYTE_COUNT	134068868
+MAP	MAP	20546092000
+MAP	WRITE	11158441000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1324614000
+MAP	SERIALIZE_OUTPUT	4067591000
+MAP	MAP_MEM	212823024
+SPILL	SORT_AND_SPILL	34546841000
+SPILL	QUICK_SORT	20277896000
+SPILL	SORT_COUNT	910900
+SPILL	COMBINE	0
+SPILL	WRITE	14268945000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	31149614
+SPILL	COMPRESS_BYTE_COUNT	9782649
+MERGE	TOTAL_MERGE	2636000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	67278182818
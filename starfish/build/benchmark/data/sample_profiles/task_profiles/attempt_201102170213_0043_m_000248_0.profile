@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00179	0
+MAP	STARTUP_MEM	214614272
+MAP	SETUP	432000
+MAP	SETUP_MEM	214614272
+MAP	CLEANUP	98000
+MAP	CLEANUP_MEM	223179512
+MAP	TOTAL_RUN	18165465000
+MAP	READ	7680227000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	365617
+MAP	VALUE_BYTE_COUNT	134060723
+MAP	MAP	10277091000
+MAP	WRITE	3859690000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	543563000
+MAP	SERIALIZE_OUTPUT	1682581000
+MAP	MAP_MEM	223179512
+SPILL	SORT_AND_SPILL	26627892000
+SPILL	QUICK_SORT	13332590000
+SPILL	SORT_COUNT	633519
+SPILL	COMBINE	0
+SPILL	WRITE	13295302000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	22419912
+SPILL	COMPRESS_BYTE_COUNT	6765704
+MERGE	TOTAL_MERGE	1400000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	46559409000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00125	0
+MAP	STARTUP_MEM	214409776
+MAP	SETUP	428000
+MAP	SETUP_MEM	214409776
+MAP	CLEANUP	98000
+MAP	CLEANUP_MEM	221434744
+MAP	TOTAL_RUN	21203197000
+MAP	READ	10488791000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	321783
+MAP	VALUE_BYTE_COUNT	134002060
+MAP	MAP	10534631000
+MAP	WRITE	5990127000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	820878000
+MAP	SERIALIZE_OUTPUT	1298273000
+MAP	MAP_MEM	222290384
+SPILL	SORT_AND_SPILL	21899797000
+SPILL	QUICK_SORT	13965240000
+SPILL	SORT_COUNT	598066
+SPILL	COMBINE	0
+SPILL	WRITE	7934557000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	20710841
+SPILL	COMPRESS_BYTE_COUNT	6350204
+MERGE	TOTAL_MERGE	1589000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	44698829000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00193	0
+MAP	STARTUP_MEM	214685456
+MAP	SETUP	455000
+MAP	SETUP_MEM	214685456
+MAP	CLEANUP	98000
+MAP	CLEANUP_MEM	245951016
+MAP	TOTAL_RUN	16842448000
+MAP	READ	8083370000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	364133
+MAP	VALUE_BYTE_COUNT	134050818
+MAP	MAP	8505549000
+MAP	WRITE	3277841000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	494812000
+MAP	SERIALIZE_OUTPUT	1247657000
+MAP	MAP_MEM	245951016
+SPILL	SORT_AND_SPILL	20080642000
+SPILL	QUICK_SORT	12777085000
+SPILL	SORT_COUNT	593281
+SPILL	COMBINE	0
+SPILL	WRITE	7303557000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	21062031
+SPILL	COMPRESS_BYTE_COUNT	6381497
+MERGE	TOTAL_MERGE	1819000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	37529884000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00134	0
+MAP	STARTUP_MEM	215295936
+MAP	SETUP	470000
+MAP	SETUP_MEM	215295936
+MAP	CLEANUP	99000
+MAP	CLEANUP_MEM	229321568
+MAP	TOTAL_RUN	25175557000
+MAP	READ	8628565000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	403739
+MAP	VALUE_BYTE_COUNT	134042621
+MAP	MAP	15205356000
+MAP	WRITE	5153049000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	678162000
+MAP	SERIALIZE_OUTPUT	1443434000
+MAP	MAP_MEM	229321568
+SPILL	SORT_AND_SPILL	29548903000
+SPILL	QUICK_SORT	14439596000
+SPILL	SORT_COUNT	624615
+SPILL	COMBINE	0
+SPILL	WRITE	15109307000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	21921789
+SPILL	COMPRESS_BYTE_COUNT	6628489
+MERGE	TOTAL_MERGE	1763000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	58011883000
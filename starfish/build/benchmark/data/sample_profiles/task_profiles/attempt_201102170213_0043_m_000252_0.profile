@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00168	0
+MAP	STARTUP_MEM	214398944
+MAP	SETUP	417000
+MAP	SETUP_MEM	214398944
+MAP	CLEANUP	93000
+MAP	CLEANUP_MEM	219209224
+MAP	TOTAL_RUN	16605725000
+MAP	READ	7918124000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	357994
+MAP	VALUE_BYTE_COUNT	134094781
+MAP	MAP	8444538000
+MAP	WRITE	3278205000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	528991000
+MAP	SERIALIZE_OUTPUT	1099136000
+MAP	MAP_MEM	219209224
+SPILL	SORT_AND_SPILL	34763108000
+SPILL	QUICK_SORT	21468521000
+SPILL	SORT_COUNT	606435
+SPILL	COMBINE	0
+SPILL	WRITE	13294587000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	21298391
+SPILL	COMPRESS_BYTE_COUNT	6348068
+MERGE	TOTAL_MERGE	1442000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	53040217000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00116	0
+MAP	STARTUP_MEM	215250256
+MAP	SETUP	517000
+MAP	SETUP_MEM	215250256
+MAP	CLEANUP	96000
+MAP	CLEANUP_MEM	211680896
+MAP	TOTAL_RUN	26618442000
+MAP	READ	9760367000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	433370
+MAP	VALUE_BYTE_COUNT	134036580
+MAP	MAP	16382480000
+MAP	WRITE	8253478000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	782156000
+MAP	SERIALIZE_OUTPUT	4083481000
+MAP	MAP_MEM	212243080
+SPILL	SORT_AND_SPILL	28379333000
+SPILL	QUICK_SORT	20965159000
+SPILL	SORT_COUNT	751028
+SPILL	COMBINE	0
+SPILL	WRITE	7414174000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	24945041
+SPILL	COMPRESS_BYTE_COUNT	7213039
+MERGE	TOTAL_MERGE	1696000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	55535033000
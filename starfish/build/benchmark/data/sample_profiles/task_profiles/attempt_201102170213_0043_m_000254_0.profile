@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00165	0
+MAP	STARTUP_MEM	214414392
+MAP	SETUP	457000
+MAP	SETUP_MEM	214414392
+MAP	CLEANUP	102000
+MAP	CLEANUP_MEM	220964104
+MAP	TOTAL_RUN	15348865000
+MAP	READ	6447591000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	364084
+MAP	VALUE_BYTE_COUNT	134060905
+MAP	MAP	8675549000
+MAP	WRITE	3302568000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	529341000
+MAP	SERIALIZE_OUTPUT	1123070000
+MAP	MAP_MEM	220964104
+SPILL	SORT_AND_SPILL	26875928000
+SPILL	QUICK_SORT	12835608000
+SPILL	SORT_COUNT	629912
+SPILL	COMBINE	0
+SPILL	WRITE	14040320000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	22313908
+SPILL	COMPRESS_BYTE_COUNT	6821659
+MERGE	TOTAL_MERGE	1528000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	44390661000
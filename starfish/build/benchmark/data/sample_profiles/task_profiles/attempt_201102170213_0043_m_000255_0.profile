@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00169	0
+MAP	STARTUP_MEM	214411944
+MAP	SETUP	422000
+MAP	SETUP_MEM	214411944
+MAP	CLEANUP	97000
+MAP	CLEANUP_MEM	216660464
+MAP	TOTAL_RUN	19278367000
+MAP	READ	8163497000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	344372
+MAP	VALUE_BYTE_COUNT	134041098
+MAP	MAP	10929804000
+MAP	WRITE	5493332000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	493338000
+MAP	SERIALIZE_OUTPUT	3411447000
+MAP	MAP_MEM	217516104
+SPILL	SORT_AND_SPILL	18991542000
+SPILL	QUICK_SORT	12392643000
+SPILL	SORT_COUNT	597782
+SPILL	COMBINE	0
+SPILL	WRITE	6598899000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	20936249
+SPILL	COMPRESS_BYTE_COUNT	6284284
+MERGE	TOTAL_MERGE	256889000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	39471755000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00189	0
+MAP	STARTUP_MEM	216142928
+MAP	SETUP	464000
+MAP	SETUP_MEM	216142928
+MAP	CLEANUP	103000
+MAP	CLEANUP_MEM	231225120
+MAP	TOTAL_RUN	17006362000
+MAP	READ	6258915000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	396284
+MAP	VALUE_BYTE_COUNT	134028732
+MAP	MAP	10251245000
+MAP	WRITE	4083675000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	606590000
+MAP	SERIALIZE_OUTPUT	1492807000
+MAP	MAP_MEM	231225120
+SPILL	SORT_AND_SPILL	26786617000
+SPILL	QUICK_SORT	15450042000
+SPILL	SORT_COUNT	622740
+SPILL	COMBINE	0
+SPILL	WRITE	11336575000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	21980041
+SPILL	COMPRESS_BYTE_COUNT	6668013
+MERGE	TOTAL_MERGE	1790000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	47607824000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00190	0
+MAP	STARTUP_MEM	215542624
+MAP	SETUP	505000
+MAP	SETUP_MEM	215542624
+MAP	CLEANUP	96000
+MAP	CLEANUP_MEM	215367496
+MAP	TOTAL_RUN	14605958000
+MAP	READ	6157695000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	383754
+MAP	VALUE_BYTE_COUNT	134051322
+MAP	MAP	8085436000
+MAP	WRITE	3553015000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	879128000
+MAP	SERIALIZE_OUTPUT	1277230000
+MAP	MAP_MEM	215367496
+SPILL	SORT_AND_SPILL	18672280000
+SPILL	QUICK_SORT	13052060000
+SPILL	SORT_COUNT	598379
+SPILL	COMBINE	0
+SPILL	WRITE	5620220000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	20810825
+SPILL	COMPRESS_BYTE_COUNT	6390567
+MERGE	TOTAL_MERGE	1810000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	34813047000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00162	0
+MAP	STARTUP_MEM	214391480
+MAP	SETUP	494000
+MAP	SETUP_MEM	214391480
+MAP	CLEANUP	89000
+MAP	CLEANUP_MEM	243207432
+MAP	TOTAL_RUN	17991177000
+MAP	READ	7922626000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	362054
+MAP	VALUE_BYTE_COUNT	134090318
+MAP	MAP	9866820000
+MAP	WRITE	4162377000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1105238000
+MAP	SERIALIZE_OUTPUT	1365871000
+MAP	MAP_MEM	243207432
+SPILL	SORT_AND_SPILL	43329768000
+SPILL	QUICK_SORT	17926671000
+SPILL	SORT_COUNT	593100
+SPILL	COMBINE	0
+SPILL	WRITE	25403097000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	20800699
+SPILL	COMPRESS_BYTE_COUNT	6380463
+MERGE	TOTAL_MERGE	1638000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	63286409000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00139	0
+MAP	STARTUP_MEM	215267248
+MAP	SETUP	565000
+MAP	SETUP_MEM	215267248
+MAP	CLEANUP	107000
+MAP	CLEANUP_MEM	228381176
+MAP	TOTAL_RUN	17006409000
+MAP	READ	5942007000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	441350
+MAP	VALUE_BYTE_COUNT	134047158
+MAP	MAP	10764977000
+MAP	WRITE	4451009000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	766715000
+MAP	SERIALIZE_OUTPUT	1814005000
+MAP	MAP_MEM	228943336
+SPILL	SORT_AND_SPILL	29149836084
+SPILL	QUICK_SORT	21170600084
+SPILL	SORT_COUNT	652114
+SPILL	COMBINE	0
+SPILL	WRITE	7979236000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	23361134
+SPILL	COMPRESS_BYTE_COUNT	7187805
+MERGE	TOTAL_MERGE	262093000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	47030074084
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00177	0
+MAP	STARTUP_MEM	214436488
+MAP	SETUP	565000
+MAP	SETUP_MEM	214436488
+MAP	CLEANUP	90000
+MAP	CLEANUP_MEM	226207088
+MAP	TOTAL_RUN	16338814000
+MAP	READ	7649537000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	336364
+MAP	VALUE_BYTE_COUNT	134074440
+MAP	MAP	8508176000
+MAP	WRITE	3800978000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	558362000
+MAP	SERIALIZE_OUTPUT	1112968000
+MAP	MAP_MEM	226207088
+SPILL	SORT_AND_SPILL	22921164000
+SPILL	QUICK_SORT	11522786000
+SPILL	SORT_COUNT	627183
+SPILL	COMBINE	0
+SPILL	WRITE	11398378000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	22474530
+SPILL	COMPRESS_BYTE_COUNT	6204765
+MERGE	TOTAL_MERGE	1420000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	42918873000
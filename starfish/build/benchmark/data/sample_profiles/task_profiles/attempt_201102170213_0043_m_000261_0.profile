@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00149	0
+MAP	STARTUP_MEM	216075288
+MAP	SETUP	429000
+MAP	SETUP_MEM	216075288
+MAP	CLEANUP	96000
+MAP	CLEANUP_MEM	236055896
+MAP	TOTAL_RUN	15888679000
+MAP	READ	6241795000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	407673
+MAP	VALUE_BYTE_COUNT	134043091
+MAP	MAP	9430035000
+MAP	WRITE	3927864000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	840570000
+MAP	SERIALIZE_OUTPUT	1541033000
+MAP	MAP_MEM	236911536
+SPILL	SORT_AND_SPILL	23452672000
+SPILL	QUICK_SORT	15887230000
+SPILL	SORT_COUNT	717205
+SPILL	COMBINE	0
+SPILL	WRITE	7565442000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	25482052
+SPILL	COMPRESS_BYTE_COUNT	7563349
+MERGE	TOTAL_MERGE	1896000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	41919232000
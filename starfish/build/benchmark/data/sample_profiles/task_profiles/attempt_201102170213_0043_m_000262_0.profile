@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00175	0
+MAP	STARTUP_MEM	215504984
+MAP	SETUP	496000
+MAP	SETUP_MEM	215504984
+MAP	CLEANUP	97000
+MAP	CLEANUP_MEM	234880464
+MAP	TOTAL_RUN	16948215000
+MAP	READ	4999707000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	398594
+MAP	VALUE_BYTE_COUNT	133670819
+MAP	MAP	11740292000
+MAP	WRITE	3628178000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	567316000
+MAP	SERIALIZE_OUTPUT	1394382000
+MAP	MAP_MEM	234880464
+SPILL	SORT_AND_SPILL	21086095000
+SPILL	QUICK_SORT	14222572000
+SPILL	SORT_COUNT	651098
+SPILL	COMBINE	0
+SPILL	WRITE	6863523000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	22739849
+SPILL	COMPRESS_BYTE_COUNT	6797904
+MERGE	TOTAL_MERGE	1577000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	39177739000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00167	0
+MAP	STARTUP_MEM	215326968
+MAP	SETUP	532000
+MAP	SETUP_MEM	215326968
+MAP	CLEANUP	148000
+MAP	CLEANUP_MEM	226881576
+MAP	TOTAL_RUN	22752135000
+MAP	READ	9054036000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	368732
+MAP	VALUE_BYTE_COUNT	134056417
+MAP	MAP	13444647000
+MAP	WRITE	7304653000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1030772000
+MAP	SERIALIZE_OUTPUT	3409106000
+MAP	MAP_MEM	226881576
+SPILL	SORT_AND_SPILL	26694076000
+SPILL	QUICK_SORT	13317861000
+SPILL	SORT_COUNT	622072
+SPILL	COMBINE	0
+SPILL	WRITE	13376215000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	21903755
+SPILL	COMPRESS_BYTE_COUNT	6493769
+MERGE	TOTAL_MERGE	1745000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	50619304000
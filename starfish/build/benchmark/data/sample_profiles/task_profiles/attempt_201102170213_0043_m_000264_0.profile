@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00166	0
+MAP	STARTUP_MEM	216289408
+MAP	SETUP	467000
+MAP	SETUP_MEM	216289408
+MAP	CLEANUP	121000
+MAP	CLEANUP_MEM	224293152
+MAP	TOTAL_RUN	14073560000
+MAP	READ	4940016000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	337386
+MAP	VALUE_BYTE_COUNT	134076613
+MAP	MAP	8956463000
+MAP	WRITE	3354109000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	537532000
+MAP	SERIALIZE_OUTPUT	1440626000
+MAP	MAP_MEM	224293152
+SPILL	SORT_AND_SPILL	19332275000
+SPILL	QUICK_SORT	13446642000
+SPILL	SORT_COUNT	638101
+SPILL	COMBINE	0
+SPILL	WRITE	5885633000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	22189895
+SPILL	COMPRESS_BYTE_COUNT	6412157
+MERGE	TOTAL_MERGE	1519000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	33837540000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00197	0
+MAP	STARTUP_MEM	214724064
+MAP	SETUP	457000
+MAP	SETUP_MEM	214724064
+MAP	CLEANUP	105000
+MAP	CLEANUP_MEM	241738720
+MAP	TOTAL_RUN	24273669000
+MAP	READ	11488278000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	362131
+MAP	VALUE_BYTE_COUNT	134061588
+MAP	MAP	12548917000
+MAP	WRITE	4467618000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	589213000
+MAP	SERIALIZE_OUTPUT	2069233000
+MAP	MAP_MEM	241738720
+SPILL	SORT_AND_SPILL	20988375000
+SPILL	QUICK_SORT	12956454000
+SPILL	SORT_COUNT	584703
+SPILL	COMBINE	0
+SPILL	WRITE	8031921000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	20755135
+SPILL	COMPRESS_BYTE_COUNT	6180687
+MERGE	TOTAL_MERGE	1464000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	48203748000
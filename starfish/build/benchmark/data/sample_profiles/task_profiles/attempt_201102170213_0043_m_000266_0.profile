@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00184	0
+MAP	STARTUP_MEM	214439872
+MAP	SETUP	462000
+MAP	SETUP_MEM	214439872
+MAP	CLEANUP	94000
+MAP	CLEANUP_MEM	238545440
+MAP	TOTAL_RUN	14967024000
+MAP	READ	5763392000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	375305
+MAP	VALUE_BYTE_COUNT	134056374
+MAP	MAP	8985331000
+MAP	WRITE	2703294000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	482773000
+MAP	SERIALIZE_OUTPUT	998591000
+MAP	MAP_MEM	238545440
+SPILL	SORT_AND_SPILL	31518292000
+SPILL	QUICK_SORT	13146049000
+SPILL	SORT_COUNT	580225
+SPILL	COMBINE	0
+SPILL	WRITE	18372243000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	20735288
+SPILL	COMPRESS_BYTE_COUNT	6216502
+MERGE	TOTAL_MERGE	1723000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	47157577000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00210	0
+MAP	STARTUP_MEM	214448048
+MAP	SETUP	458000
+MAP	SETUP_MEM	214448048
+MAP	CLEANUP	98000
+MAP	CLEANUP_MEM	242406560
+MAP	TOTAL_RUN	21755448000
+MAP	READ	7331380000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	406580
+MAP	VALUE_BYTE_COUNT	134015274
+MAP	MAP	14159227000
+MAP	WRITE	6836042000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1078909000
+MAP	SERIALIZE_OUTPUT	2116892000
+MAP	MAP_MEM	242406560
+SPILL	SORT_AND_SPILL	23414941084
+SPILL	QUICK_SORT	15694409084
+SPILL	SORT_COUNT	580246
+SPILL	COMBINE	0
+SPILL	WRITE	7720532000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	20712867
+SPILL	COMPRESS_BYTE_COUNT	6097308
+MERGE	TOTAL_MERGE	1872000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	46551286084
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00199	0
+MAP	STARTUP_MEM	215303904
+MAP	SETUP	592000
+MAP	SETUP_MEM	215303904
+MAP	CLEANUP	104000
+MAP	CLEANUP_MEM	212242176
+MAP	TOTAL_RUN	17390326000
+MAP	READ	7056318000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	371637
+MAP	VALUE_BYTE_COUNT	134055786
+MAP	MAP	10022195000
+MAP	WRITE	4866943000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	706391000
+MAP	SERIALIZE_OUTPUT	1723187000
+MAP	MAP_MEM	212242176
+SPILL	SORT_AND_SPILL	19431373667
+SPILL	QUICK_SORT	13347137000
+SPILL	SORT_COUNT	597017
+SPILL	COMBINE	0
+SPILL	WRITE	6084236667
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	21120816
+SPILL	COMPRESS_BYTE_COUNT	6458495
+MERGE	TOTAL_MERGE	1742000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	38276674667
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00202	0
+MAP	STARTUP_MEM	214410544
+MAP	SETUP	461000
+MAP	SETUP_MEM	214410544
+MAP	CLEANUP	94000
+MAP	CLEANUP_MEM	215189528
+MAP	TOTAL_RUN	18829464000
+MAP	READ	7262552000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	347592
+MAP	VALUE_BYTE_COUNT	134077458
+MAP	MAP	10934480000
+MAP	WRITE	5985932000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	2653430000
+MAP	SERIALIZE_OUTPUT	1618598000
+MAP	MAP_MEM	215189528
+SPILL	SORT_AND_SPILL	35480192000
+SPILL	QUICK_SORT	25955610000
+SPILL	SORT_COUNT	763522
+SPILL	COMBINE	0
+SPILL	WRITE	9524582000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	28281391
+SPILL	COMPRESS_BYTE_COUNT	9150272
+MERGE	TOTAL_MERGE	1769000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	55124702000
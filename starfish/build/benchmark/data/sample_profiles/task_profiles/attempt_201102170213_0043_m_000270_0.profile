@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00191	0
+MAP	STARTUP_MEM	214412936
+MAP	SETUP	501000
+MAP	SETUP_MEM	214412936
+MAP	CLEANUP	95000
+MAP	CLEANUP_MEM	216536536
+MAP	TOTAL_RUN	19236301000
+MAP	READ	5379957000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	369432
+MAP	VALUE_BYTE_COUNT	134063926
+MAP	MAP	13666060000
+MAP	WRITE	6232753000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1994632000
+MAP	SERIALIZE_OUTPUT	1378112000
+MAP	MAP_MEM	216536536
+SPILL	SORT_AND_SPILL	29342899000
+SPILL	QUICK_SORT	12871742000
+SPILL	SORT_COUNT	611305
+SPILL	COMBINE	0
+SPILL	WRITE	16471157000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	21497734
+SPILL	COMPRESS_BYTE_COUNT	6392614
+MERGE	TOTAL_MERGE	1522000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	53090279000
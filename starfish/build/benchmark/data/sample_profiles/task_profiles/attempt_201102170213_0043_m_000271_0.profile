@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00154	0
+MAP	STARTUP_MEM	215291816
+MAP	SETUP	532000
+MAP	SETUP_MEM	215291816
+MAP	CLEANUP	109000
+MAP	CLEANUP_MEM	215361456
+MAP	TOTAL_RUN	18375786667
+MAP	READ	6032703000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	398664
+MAP	VALUE_BYTE_COUNT	134066822
+MAP	MAP	11653381667
+MAP	WRITE	4752674000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	706671000
+MAP	SERIALIZE_OUTPUT	1711160000
+MAP	MAP_MEM	215361456
+SPILL	SORT_AND_SPILL	22217163000
+SPILL	QUICK_SORT	15301653000
+SPILL	SORT_COUNT	665632
+SPILL	COMBINE	0
+SPILL	WRITE	6915510000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	23331918
+SPILL	COMPRESS_BYTE_COUNT	6751112
+MERGE	TOTAL_MERGE	1616000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	41743535667
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00198	0
+MAP	STARTUP_MEM	215274936
+MAP	SETUP	530000
+MAP	SETUP_MEM	215274936
+MAP	CLEANUP	97000
+MAP	CLEANUP_MEM	236031024
+MAP	TOTAL_RUN	21884162000
+MAP	READ	5896082000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	354914
+MAP	VALUE_BYTE_COUNT	134068224
+MAP	MAP	12988571000
+MAP	WRITE	4518171000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	556375000
+MAP	SERIALIZE_OUTPUT	1270219000
+MAP	MAP_MEM	236031024
+SPILL	SORT_AND_SPILL	36971667000
+SPILL	QUICK_SORT	21500537000
+SPILL	SORT_COUNT	579808
+SPILL	COMBINE	0
+SPILL	WRITE	15471130000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	20440257
+SPILL	COMPRESS_BYTE_COUNT	6162281
+MERGE	TOTAL_MERGE	964937000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	61973047000
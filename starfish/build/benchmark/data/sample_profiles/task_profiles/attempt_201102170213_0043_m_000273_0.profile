@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00211	0
+MAP	STARTUP_MEM	214396928
+MAP	SETUP	534000
+MAP	SETUP_MEM	214396928
+MAP	CLEANUP	101000
+MAP	CLEANUP_MEM	232363008
+MAP	TOTAL_RUN	18029999000
+MAP	READ	6751613000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	462840
+MAP	VALUE_BYTE_COUNT	134038644
+MAP	MAP	11065502000
+MAP	WRITE	3721651000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	586124000
+MAP	SERIALIZE_OUTPUT	1677010000
+MAP	MAP_MEM	232363008
+SPILL	SORT_AND_SPILL	18832550000
+SPILL	QUICK_SORT	13080676000
+SPILL	SORT_COUNT	612225
+SPILL	COMBINE	0
+SPILL	WRITE	5751874000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	21886924
+SPILL	COMPRESS_BYTE_COUNT	6495783
+MERGE	TOTAL_MERGE	1675000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	39223812000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00176	0
+MAP	STARTUP_MEM	214636248
+MAP	SETUP	432000
+MAP	SETUP_MEM	214636248
+MAP	CLEANUP	102000
+MAP	CLEANUP_MEM	235062376
+MAP	TOTAL_RUN	14298559000
+MAP	READ	5453888000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	385455
+MAP	VALUE_BYTE_COUNT	134036294
+MAP	MAP	8588481000
+MAP	WRITE	3187725000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	522009000
+MAP	SERIALIZE_OUTPUT	1347216000
+MAP	MAP_MEM	235062376
+SPILL	SORT_AND_SPILL	26212541000
+SPILL	QUICK_SORT	18641955000
+SPILL	SORT_COUNT	646330
+SPILL	COMBINE	0
+SPILL	WRITE	7570586000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	22691526
+SPILL	COMPRESS_BYTE_COUNT	6661558
+MERGE	TOTAL_MERGE	1473000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	43619850000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00115	0
+MAP	STARTUP_MEM	215278656
+MAP	SETUP	532000
+MAP	SETUP_MEM	215278656
+MAP	CLEANUP	108000
+MAP	CLEANUP_MEM	224227144
+MAP	TOTAL_RUN	31556038000
+MAP	READ	9895005000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	388577
+MAP	VALUE_BYTE_COUNT	133993983
+MAP	MAP	21401900000
+MAP	WRITE	13013267000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	2392929000
+MAP	SERIALIZE_OUTPUT	5354596000
+MAP	MAP_MEM	224789304
+SPILL	SORT_AND_SPILL	26556297152
+SPILL	QUICK_SORT	13266541152
+SPILL	SORT_COUNT	722269
+SPILL	COMBINE	0
+SPILL	WRITE	13289756000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	24011626
+SPILL	COMPRESS_BYTE_COUNT	7099354
+MERGE	TOTAL_MERGE	1668000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	59723167152
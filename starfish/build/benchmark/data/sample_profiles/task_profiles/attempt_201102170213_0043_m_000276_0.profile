@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00187	0
+MAP	STARTUP_MEM	216141232
+MAP	SETUP	450000
+MAP	SETUP_MEM	216141232
+MAP	CLEANUP	93000
+MAP	CLEANUP_MEM	228962384
+MAP	TOTAL_RUN	17518617000
+MAP	READ	5013514000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	363629
+MAP	VALUE_BYTE_COUNT	133972018
+MAP	MAP	12317754000
+MAP	WRITE	3913107000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	669806000
+MAP	SERIALIZE_OUTPUT	1721623000
+MAP	MAP_MEM	228962384
+SPILL	SORT_AND_SPILL	29924087000
+SPILL	QUICK_SORT	21340363000
+SPILL	SORT_COUNT	623969
+SPILL	COMBINE	0
+SPILL	WRITE	8583724000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	21859806
+SPILL	COMPRESS_BYTE_COUNT	6463050
+MERGE	TOTAL_MERGE	465389000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	50642460000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00151	0
+MAP	STARTUP_MEM	215327520
+MAP	SETUP	589000
+MAP	SETUP_MEM	215327520
+MAP	CLEANUP	130000
+MAP	CLEANUP_MEM	242999512
+MAP	TOTAL_RUN	16272342000
+MAP	READ	6604246000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	392658
+MAP	VALUE_BYTE_COUNT	133972499
+MAP	MAP	9393575000
+MAP	WRITE	4406707000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	905098000
+MAP	SERIALIZE_OUTPUT	1545945000
+MAP	MAP_MEM	242999512
+SPILL	SORT_AND_SPILL	25475245000
+SPILL	QUICK_SORT	13112699000
+SPILL	SORT_COUNT	620959
+SPILL	COMBINE	0
+SPILL	WRITE	12362546000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	21525013
+SPILL	COMPRESS_BYTE_COUNT	6439540
+MERGE	TOTAL_MERGE	1748000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	42874769000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00173	0
+MAP	STARTUP_MEM	214409600
+MAP	SETUP	422000
+MAP	SETUP_MEM	214409600
+MAP	CLEANUP	98000
+MAP	CLEANUP_MEM	229913240
+MAP	TOTAL_RUN	27300693000
+MAP	READ	6667851000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	391223
+MAP	VALUE_BYTE_COUNT	134050333
+MAP	MAP	20371897000
+MAP	WRITE	10255971000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	2933064000
+MAP	SERIALIZE_OUTPUT	2572510000
+MAP	MAP_MEM	229913240
+SPILL	SORT_AND_SPILL	21250534000
+SPILL	QUICK_SORT	15162103000
+SPILL	SORT_COUNT	628328
+SPILL	COMBINE	0
+SPILL	WRITE	6088431000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	21508078
+SPILL	COMPRESS_BYTE_COUNT	6414088
+MERGE	TOTAL_MERGE	1827000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	50304751000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00180	0
+MAP	STARTUP_MEM	216133024
+MAP	SETUP	477000
+MAP	SETUP_MEM	216133024
+MAP	CLEANUP	98000
+MAP	CLEANUP_MEM	215108480
+MAP	TOTAL_RUN	13324957000
+MAP	READ	5362273000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	372379
+MAP	VALUE_BYTE_COUNT	134151751
+MAP	MAP	7767587000
+MAP	WRITE	3249909000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	536350000
+MAP	SERIALIZE_OUTPUT	1296858000
+MAP	MAP_MEM	215108480
+SPILL	SORT_AND_SPILL	17475475000
+SPILL	QUICK_SORT	11685901000
+SPILL	SORT_COUNT	587633
+SPILL	COMBINE	0
+SPILL	WRITE	5789574000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	20817066
+SPILL	COMPRESS_BYTE_COUNT	6356058
+MERGE	TOTAL_MERGE	1675000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	31503843000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00192	0
+MAP	STARTUP_MEM	215266456
+MAP	SETUP	500000
+MAP	SETUP_MEM	215266456
+MAP	CLEANUP	108000
+MAP	CLEANUP_MEM	241891088
+MAP	TOTAL_RUN	31775808000
+MAP	READ	10350215000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	324660
+MAP	VALUE_BYTE_COUNT	134085029
+MAP	MAP	20739285000
+MAP	WRITE	11605166000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1992686000
+MAP	SERIALIZE_OUTPUT	3017566000
+MAP	MAP_MEM	241891088
+SPILL	SORT_AND_SPILL	22816335152
+SPILL	QUICK_SORT	15920376152
+SPILL	SORT_COUNT	668277
+SPILL	COMBINE	0
+SPILL	WRITE	6895959000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	23388325
+SPILL	COMPRESS_BYTE_COUNT	7009876
+MERGE	TOTAL_MERGE	1610000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	55950387152
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00203	0
+MAP	STARTUP_MEM	214480904
+MAP	SETUP	435000
+MAP	SETUP_MEM	214480904
+MAP	CLEANUP	91000
+MAP	CLEANUP_MEM	232658568
+MAP	TOTAL_RUN	19301927000
+MAP	READ	8836557000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	397845
+MAP	VALUE_BYTE_COUNT	133985318
+MAP	MAP	10257644000
+MAP	WRITE	3450712000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	574514000
+MAP	SERIALIZE_OUTPUT	1366602000
+MAP	MAP_MEM	233220728
+SPILL	SORT_AND_SPILL	18028353000
+SPILL	QUICK_SORT	11631990000
+SPILL	SORT_COUNT	631055
+SPILL	COMBINE	0
+SPILL	WRITE	6396363000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	21953467
+SPILL	COMPRESS_BYTE_COUNT	6436468
+MERGE	TOTAL_MERGE	1812000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	39724745000
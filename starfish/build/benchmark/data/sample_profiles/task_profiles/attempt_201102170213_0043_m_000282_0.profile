@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00212	0
+MAP	STARTUP_MEM	215507672
+MAP	SETUP	470000
+MAP	SETUP_MEM	215507672
+MAP	CLEANUP	90000
+MAP	CLEANUP_MEM	222202408
+MAP	TOTAL_RUN	20121400000
+MAP	READ	8767103000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	450824
+MAP	VALUE_BYTE_COUNT	134050851
+MAP	MAP	11148698000
+MAP	WRITE	5001988000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	567923000
+MAP	SERIALIZE_OUTPUT	2687837000
+MAP	MAP_MEM	222202408
+SPILL	SORT_AND_SPILL	25860534000
+SPILL	QUICK_SORT	18617161000
+SPILL	SORT_COUNT	592936
+SPILL	COMBINE	0
+SPILL	WRITE	7243373000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	21195489
+SPILL	COMPRESS_BYTE_COUNT	6277201
+MERGE	TOTAL_MERGE	1688000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	46684661000
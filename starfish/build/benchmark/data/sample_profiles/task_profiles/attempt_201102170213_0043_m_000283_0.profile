@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00194	0
+MAP	STARTUP_MEM	214628112
+MAP	SETUP	423000
+MAP	SETUP_MEM	214628112
+MAP	CLEANUP	98000
+MAP	CLEANUP_MEM	233286648
+MAP	TOTAL_RUN	20365546000
+MAP	READ	6937549000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	358078
+MAP	VALUE_BYTE_COUNT	134065560
+MAP	MAP	12913628000
+MAP	WRITE	7054128000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	953857000
+MAP	SERIALIZE_OUTPUT	4792135000
+MAP	MAP_MEM	233286648
+SPILL	SORT_AND_SPILL	21337206000
+SPILL	QUICK_SORT	12472941000
+SPILL	SORT_COUNT	552483
+SPILL	COMBINE	0
+SPILL	WRITE	8864265000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	19676193
+SPILL	COMPRESS_BYTE_COUNT	5929901
+MERGE	TOTAL_MERGE	1461000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	43033203000
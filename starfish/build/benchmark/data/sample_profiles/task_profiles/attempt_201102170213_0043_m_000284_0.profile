@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00170	0
+MAP	STARTUP_MEM	214458240
+MAP	SETUP	623000
+MAP	SETUP_MEM	214458240
+MAP	CLEANUP	100000
+MAP	CLEANUP_MEM	233047064
+MAP	TOTAL_RUN	21528731000
+MAP	READ	5854139000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	381619
+MAP	VALUE_BYTE_COUNT	134052454
+MAP	MAP	15401996000
+MAP	WRITE	7381053000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	906060000
+MAP	SERIALIZE_OUTPUT	3966087000
+MAP	MAP_MEM	233609224
+SPILL	SORT_AND_SPILL	22332331000
+SPILL	QUICK_SORT	14917234000
+SPILL	SORT_COUNT	733074
+SPILL	COMBINE	0
+SPILL	WRITE	7415097000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	25147760
+SPILL	COMPRESS_BYTE_COUNT	7079447
+MERGE	TOTAL_MERGE	2623000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	46356017000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00185	0
+MAP	STARTUP_MEM	214448440
+MAP	SETUP	445000
+MAP	SETUP_MEM	214448440
+MAP	CLEANUP	99000
+MAP	CLEANUP_MEM	238942336
+MAP	TOTAL_RUN	12462279000
+MAP	READ	4950523000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	370573
+MAP	VALUE_BYTE_COUNT	134059072
+MAP	MAP	7319294000
+MAP	WRITE	2693084000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	489973000
+MAP	SERIALIZE_OUTPUT	1017311000
+MAP	MAP_MEM	238942336
+SPILL	SORT_AND_SPILL	16028913000
+SPILL	QUICK_SORT	10583758000
+SPILL	SORT_COUNT	569697
+SPILL	COMBINE	0
+SPILL	WRITE	5445155000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	20045541
+SPILL	COMPRESS_BYTE_COUNT	6112086
+MERGE	TOTAL_MERGE	1471000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	31977143000
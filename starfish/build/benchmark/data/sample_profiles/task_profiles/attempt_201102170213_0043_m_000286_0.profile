@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00186	0
+MAP	STARTUP_MEM	214688704
+MAP	SETUP	431000
+MAP	SETUP_MEM	214688704
+MAP	CLEANUP	101000
+MAP	CLEANUP_MEM	238000272
+MAP	TOTAL_RUN	16545444000
+MAP	READ	7366437000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	373870
+MAP	VALUE_BYTE_COUNT	134147164
+MAP	MAP	8974463000
+MAP	WRITE	3851844000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	559097000
+MAP	SERIALIZE_OUTPUT	1545115000
+MAP	MAP_MEM	238000272
+SPILL	SORT_AND_SPILL	19623648000
+SPILL	QUICK_SORT	12528336000
+SPILL	SORT_COUNT	672899
+SPILL	COMBINE	0
+SPILL	WRITE	7095312000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	23538545
+SPILL	COMPRESS_BYTE_COUNT	7048418
+MERGE	TOTAL_MERGE	1501000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	36693514000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00153	0
+MAP	STARTUP_MEM	214421928
+MAP	SETUP	422000
+MAP	SETUP_MEM	214421928
+MAP	CLEANUP	90000
+MAP	CLEANUP_MEM	214253744
+MAP	TOTAL_RUN	19564140000
+MAP	READ	9402392000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	371287
+MAP	VALUE_BYTE_COUNT	134054457
+MAP	MAP	9969085000
+MAP	WRITE	3555124000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	705925000
+MAP	SERIALIZE_OUTPUT	1148042000
+MAP	MAP_MEM	214253744
+SPILL	SORT_AND_SPILL	21034220000
+SPILL	QUICK_SORT	12286119000
+SPILL	SORT_COUNT	674472
+SPILL	COMBINE	0
+SPILL	WRITE	8748101000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	23562169
+SPILL	COMPRESS_BYTE_COUNT	6842216
+MERGE	TOTAL_MERGE	1477000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	43679751000
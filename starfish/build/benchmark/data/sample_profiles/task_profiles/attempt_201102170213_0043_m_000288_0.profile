@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00182	0
+MAP	STARTUP_MEM	215275304
+MAP	SETUP	508000
+MAP	SETUP_MEM	215275304
+MAP	CLEANUP	98000
+MAP	CLEANUP_MEM	222235488
+MAP	TOTAL_RUN	16401123000
+MAP	READ	6435530000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	361893
+MAP	VALUE_BYTE_COUNT	134064420
+MAP	MAP	9730046000
+MAP	WRITE	4539899000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	690861000
+MAP	SERIALIZE_OUTPUT	1890229000
+MAP	MAP_MEM	222797648
+SPILL	SORT_AND_SPILL	20955859000
+SPILL	QUICK_SORT	14769406000
+SPILL	SORT_COUNT	635406
+SPILL	COMBINE	0
+SPILL	WRITE	6186453000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	22892920
+SPILL	COMPRESS_BYTE_COUNT	6931562
+MERGE	TOTAL_MERGE	6573000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	37875549000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00137	0
+MAP	STARTUP_MEM	215524560
+MAP	SETUP	477000
+MAP	SETUP_MEM	215524560
+MAP	CLEANUP	104000
+MAP	CLEANUP_MEM	239841792
+MAP	TOTAL_RUN	15888655000
+MAP	READ	6047180000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	414204
+MAP	VALUE_BYTE_COUNT	134029389
+MAP	MAP	9628916000
+MAP	WRITE	4278640000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1360519000
+MAP	SERIALIZE_OUTPUT	1401472000
+MAP	MAP_MEM	239841792
+SPILL	SORT_AND_SPILL	17027827000
+SPILL	QUICK_SORT	11370042000
+SPILL	SORT_COUNT	631897
+SPILL	COMBINE	0
+SPILL	WRITE	5657785000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	22302829
+SPILL	COMPRESS_BYTE_COUNT	6254677
+MERGE	TOTAL_MERGE	1623000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	33388392000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00208	0
+MAP	STARTUP_MEM	215293976
+MAP	SETUP	480000
+MAP	SETUP_MEM	215293976
+MAP	CLEANUP	99000
+MAP	CLEANUP_MEM	222343216
+MAP	TOTAL_RUN	13445795000
+MAP	READ	5420163000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	402458
+MAP	VALUE_BYTE_COUNT	134929190
+MAP	MAP	7800866000
+MAP	WRITE	3074212000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	530402000
+MAP	SERIALIZE_OUTPUT	1297998000
+MAP	MAP_MEM	222343216
+SPILL	SORT_AND_SPILL	17675968000
+SPILL	QUICK_SORT	11970597000
+SPILL	SORT_COUNT	596187
+SPILL	COMBINE	0
+SPILL	WRITE	5705371000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	21495013
+SPILL	COMPRESS_BYTE_COUNT	6467506
+MERGE	TOTAL_MERGE	1596000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	31611838000
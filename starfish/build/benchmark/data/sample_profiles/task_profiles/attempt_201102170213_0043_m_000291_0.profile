@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00135	0
+MAP	STARTUP_MEM	216120040
+MAP	SETUP	505000
+MAP	SETUP_MEM	216120040
+MAP	CLEANUP	103000
+MAP	CLEANUP_MEM	222496248
+MAP	TOTAL_RUN	22138677000
+MAP	READ	7148833000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	396060
+MAP	VALUE_BYTE_COUNT	134049858
+MAP	MAP	14766049000
+MAP	WRITE	7479676000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	767428000
+MAP	SERIALIZE_OUTPUT	1479070000
+MAP	MAP_MEM	222496248
+SPILL	SORT_AND_SPILL	19068821000
+SPILL	QUICK_SORT	12204669000
+SPILL	SORT_COUNT	600044
+SPILL	COMBINE	0
+SPILL	WRITE	6864152000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	21321794
+SPILL	COMPRESS_BYTE_COUNT	6281441
+MERGE	TOTAL_MERGE	1599000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	41699838000
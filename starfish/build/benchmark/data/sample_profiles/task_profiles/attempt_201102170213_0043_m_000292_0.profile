@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00131	0
+MAP	STARTUP_MEM	215529192
+MAP	SETUP	448000
+MAP	SETUP_MEM	215529192
+MAP	CLEANUP	93000
+MAP	CLEANUP_MEM	225949528
+MAP	TOTAL_RUN	13416895000
+MAP	READ	5406757000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	380219
+MAP	VALUE_BYTE_COUNT	134055048
+MAP	MAP	7797151000
+MAP	WRITE	3089567000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	530568000
+MAP	SERIALIZE_OUTPUT	1287920000
+MAP	MAP_MEM	225949528
+SPILL	SORT_AND_SPILL	17293160000
+SPILL	QUICK_SORT	11716624000
+SPILL	SORT_COUNT	590951
+SPILL	COMBINE	0
+SPILL	WRITE	5576536000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	20800836
+SPILL	COMPRESS_BYTE_COUNT	6237015
+MERGE	TOTAL_MERGE	1623000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	31170389000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00159	0
+MAP	STARTUP_MEM	216363176
+MAP	SETUP	478000
+MAP	SETUP_MEM	216363176
+MAP	CLEANUP	118000
+MAP	CLEANUP_MEM	224550144
+MAP	TOTAL_RUN	19523404000
+MAP	READ	9109857000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	517545
+MAP	VALUE_BYTE_COUNT	133994880
+MAP	MAP	10150002000
+MAP	WRITE	5197299000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	578681000
+MAP	SERIALIZE_OUTPUT	1540147000
+MAP	MAP_MEM	224550144
+SPILL	SORT_AND_SPILL	22936052000
+SPILL	QUICK_SORT	13969130000
+SPILL	SORT_COUNT	701435
+SPILL	COMBINE	0
+SPILL	WRITE	8966922000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	24422070
+SPILL	COMPRESS_BYTE_COUNT	7219434
+MERGE	TOTAL_MERGE	1506000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	42927958000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00128	0
+MAP	STARTUP_MEM	216120664
+MAP	SETUP	625000
+MAP	SETUP_MEM	216120664
+MAP	CLEANUP	94000
+MAP	CLEANUP_MEM	236399520
+MAP	TOTAL_RUN	19437462000
+MAP	READ	8053612000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	425467
+MAP	VALUE_BYTE_COUNT	133886401
+MAP	MAP	11136768000
+MAP	WRITE	4257400000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	707757000
+MAP	SERIALIZE_OUTPUT	2011094000
+MAP	MAP_MEM	236399520
+SPILL	SORT_AND_SPILL	22089201000
+SPILL	QUICK_SORT	15403447000
+SPILL	SORT_COUNT	614454
+SPILL	COMBINE	0
+SPILL	WRITE	6685754000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	22062300
+SPILL	COMPRESS_BYTE_COUNT	6749117
+MERGE	TOTAL_MERGE	1684000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	42280174000
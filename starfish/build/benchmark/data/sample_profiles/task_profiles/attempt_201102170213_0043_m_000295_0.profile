@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00196	0
+MAP	STARTUP_MEM	215558784
+MAP	SETUP	518000
+MAP	SETUP_MEM	215558784
+MAP	CLEANUP	103000
+MAP	CLEANUP_MEM	230311136
+MAP	TOTAL_RUN	20572991000
+MAP	READ	8661427000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	409633
+MAP	VALUE_BYTE_COUNT	133910342
+MAP	MAP	11686307000
+MAP	WRITE	5945149000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	521496000
+MAP	SERIALIZE_OUTPUT	1419323000
+MAP	MAP_MEM	230311136
+SPILL	SORT_AND_SPILL	24234384000
+SPILL	QUICK_SORT	17149275000
+SPILL	SORT_COUNT	625014
+SPILL	COMBINE	0
+SPILL	WRITE	7085109000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	22683562
+SPILL	COMPRESS_BYTE_COUNT	6875993
+MERGE	TOTAL_MERGE	1620000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	45645107000
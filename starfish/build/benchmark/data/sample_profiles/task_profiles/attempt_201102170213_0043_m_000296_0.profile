@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00183	0
+MAP	STARTUP_MEM	216175064
+MAP	SETUP	469000
+MAP	SETUP_MEM	216175064
+MAP	CLEANUP	91000
+MAP	CLEANUP_MEM	212702552
+MAP	TOTAL_RUN	29284339278
+MAP	READ	13339873000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	382809
+MAP	VALUE_BYTE_COUNT	134051799
+MAP	MAP	15745009278
+MAP	WRITE	7741976000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1018356000
+MAP	SERIALIZE_OUTPUT	2138342000
+MAP	MAP_MEM	213558192
+SPILL	SORT_AND_SPILL	28966732000
+SPILL	QUICK_SORT	20055191000
+SPILL	SORT_COUNT	778501
+SPILL	COMBINE	0
+SPILL	WRITE	8911541000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	27579919
+SPILL	COMPRESS_BYTE_COUNT	8485511
+MERGE	TOTAL_MERGE	1604000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	58803545278
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00172	0
+MAP	STARTUP_MEM	215287416
+MAP	SETUP	478000
+MAP	SETUP_MEM	215287416
+MAP	CLEANUP	104000
+MAP	CLEANUP_MEM	212714872
+MAP	TOTAL_RUN	23332606278
+MAP	READ	9839087000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	388549
+MAP	VALUE_BYTE_COUNT	134051389
+MAP	MAP	11341098278
+MAP	WRITE	5337621000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	709907000
+MAP	SERIALIZE_OUTPUT	2445186000
+MAP	MAP_MEM	212714872
+SPILL	SORT_AND_SPILL	26433628000
+SPILL	QUICK_SORT	16810131000
+SPILL	SORT_COUNT	693708
+SPILL	COMBINE	0
+SPILL	WRITE	9623497000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	24486609
+SPILL	COMPRESS_BYTE_COUNT	6902924
+MERGE	TOTAL_MERGE	1642000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	50271063278
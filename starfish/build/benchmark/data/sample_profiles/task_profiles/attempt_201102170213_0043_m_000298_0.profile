@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00150	0
+MAP	STARTUP_MEM	215280328
+MAP	SETUP	552000
+MAP	SETUP_MEM	215280328
+MAP	CLEANUP	111000
+MAP	CLEANUP_MEM	238656056
+MAP	TOTAL_RUN	18180845000
+MAP	READ	6350853000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	374857
+MAP	VALUE_BYTE_COUNT	134137173
+MAP	MAP	11579617000
+MAP	WRITE	5584056000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1915618000
+MAP	SERIALIZE_OUTPUT	1659131000
+MAP	MAP_MEM	239218216
+SPILL	SORT_AND_SPILL	28232865000
+SPILL	QUICK_SORT	14008476000
+SPILL	SORT_COUNT	663567
+SPILL	COMBINE	0
+SPILL	WRITE	14224389000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	23211982
+SPILL	COMPRESS_BYTE_COUNT	6931766
+MERGE	TOTAL_MERGE	102385000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	47146480000
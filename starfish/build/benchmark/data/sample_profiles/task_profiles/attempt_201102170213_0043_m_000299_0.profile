@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00108	0
+MAP	STARTUP_MEM	215345608
+MAP	SETUP	509000
+MAP	SETUP_MEM	215345608
+MAP	CLEANUP	113000
+MAP	CLEANUP_MEM	218249672
+MAP	TOTAL_RUN	18090995000
+MAP	READ	6702007000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	456640
+MAP	VALUE_BYTE_COUNT	140574034
+MAP	MAP	11105821000
+MAP	WRITE	6186994000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	719780000
+MAP	SERIALIZE_OUTPUT	1409256000
+MAP	MAP_MEM	218249672
+SPILL	SORT_AND_SPILL	18653366000
+SPILL	QUICK_SORT	13015487000
+SPILL	SORT_COUNT	556515
+SPILL	COMBINE	0
+SPILL	WRITE	5637879000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	19938039
+SPILL	COMPRESS_BYTE_COUNT	6156178
+MERGE	TOTAL_MERGE	1717000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	37349151000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00000	0
+MAP	STARTUP_MEM	215277968
+MAP	SETUP	516000
+MAP	SETUP_MEM	215277968
+MAP	CLEANUP	97000
+MAP	CLEANUP_MEM	220133232
+MAP	TOTAL_RUN	16926975000
+MAP	READ	8087906000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	456640
+MAP	VALUE_BYTE_COUNT	140574034
+MAP	MAP	8433681000
+MAP	WRITE	3934079000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	488932000
+MAP	SERIALIZE_OUTPUT	2289853000
+MAP	MAP_MEM	220133232
+SPILL	SORT_AND_SPILL	21126485000
+SPILL	QUICK_SORT	11197161000
+SPILL	SORT_COUNT	556515
+SPILL	COMBINE	0
+SPILL	WRITE	9929324000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	19938039
+SPILL	COMPRESS_BYTE_COUNT	6156178
+MERGE	TOTAL_MERGE	12002000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	39032206000
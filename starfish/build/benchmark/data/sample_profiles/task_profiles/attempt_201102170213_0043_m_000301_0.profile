@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00195	0
+MAP	STARTUP_MEM	215298632
+MAP	SETUP	529000
+MAP	SETUP_MEM	215298632
+MAP	CLEANUP	105000
+MAP	CLEANUP_MEM	239643776
+MAP	TOTAL_RUN	16326756000
+MAP	READ	6376177000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	365071
+MAP	VALUE_BYTE_COUNT	134192947
+MAP	MAP	9365054000
+MAP	WRITE	4055735000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	698493000
+MAP	SERIALIZE_OUTPUT	1472985000
+MAP	MAP_MEM	240205936
+SPILL	SORT_AND_SPILL	17438946000
+SPILL	QUICK_SORT	11893564000
+SPILL	SORT_COUNT	592961
+SPILL	COMBINE	0
+SPILL	WRITE	5545382000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	20947339
+SPILL	COMPRESS_BYTE_COUNT	6280826
+MERGE	TOTAL_MERGE	1699000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	34370599000
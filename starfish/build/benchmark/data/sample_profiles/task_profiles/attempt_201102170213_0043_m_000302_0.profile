@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00174	0
+MAP	STARTUP_MEM	215319448
+MAP	SETUP	448000
+MAP	SETUP_MEM	215319448
+MAP	CLEANUP	98000
+MAP	CLEANUP_MEM	231282560
+MAP	TOTAL_RUN	14067613000
+MAP	READ	5864922000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	408408
+MAP	VALUE_BYTE_COUNT	134436125
+MAP	MAP	7992072000
+MAP	WRITE	3297388000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	507904000
+MAP	SERIALIZE_OUTPUT	1364105000
+MAP	MAP_MEM	231844720
+SPILL	SORT_AND_SPILL	17385982000
+SPILL	QUICK_SORT	10724768000
+SPILL	SORT_COUNT	603562
+SPILL	COMBINE	0
+SPILL	WRITE	6661214000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	20725150
+SPILL	COMPRESS_BYTE_COUNT	6408437
+MERGE	TOTAL_MERGE	1652000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	33228578000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00206	0
+MAP	STARTUP_MEM	215484544
+MAP	SETUP	486000
+MAP	SETUP_MEM	215484544
+MAP	CLEANUP	97000
+MAP	CLEANUP_MEM	239843824
+MAP	TOTAL_RUN	16270917000
+MAP	READ	6085280000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	384972
+MAP	VALUE_BYTE_COUNT	134053507
+MAP	MAP	9967318000
+MAP	WRITE	3095626000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	478015000
+MAP	SERIALIZE_OUTPUT	1284159000
+MAP	MAP_MEM	239843824
+SPILL	SORT_AND_SPILL	17336991000
+SPILL	QUICK_SORT	11853451000
+SPILL	SORT_COUNT	578592
+SPILL	COMBINE	0
+SPILL	WRITE	5483540000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	20677897
+SPILL	COMPRESS_BYTE_COUNT	6084361
+MERGE	TOTAL_MERGE	1619000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	34066509000
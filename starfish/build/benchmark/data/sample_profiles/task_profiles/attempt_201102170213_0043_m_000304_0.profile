@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00136	0
+MAP	STARTUP_MEM	215277520
+MAP	SETUP	1374000
+MAP	SETUP_MEM	215277520
+MAP	CLEANUP	106000
+MAP	CLEANUP_MEM	230045520
+MAP	TOTAL_RUN	16451949000
+MAP	READ	7068567000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	320922
+MAP	VALUE_BYTE_COUNT	134108914
+MAP	MAP	9163448000
+MAP	WRITE	4052518000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	587230000
+MAP	SERIALIZE_OUTPUT	1426750000
+MAP	MAP_MEM	230045520
+SPILL	SORT_AND_SPILL	17990716666
+SPILL	QUICK_SORT	11004925666
+SPILL	SORT_COUNT	544568
+SPILL	COMBINE	0
+SPILL	WRITE	6985791000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	18998678
+SPILL	COMPRESS_BYTE_COUNT	5603495
+MERGE	TOTAL_MERGE	1851000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	36429606666
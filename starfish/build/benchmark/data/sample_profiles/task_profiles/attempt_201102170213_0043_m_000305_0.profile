@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00158	0
+MAP	STARTUP_MEM	214724400
+MAP	SETUP	469000
+MAP	SETUP_MEM	214724400
+MAP	CLEANUP	125000
+MAP	CLEANUP_MEM	219904640
+MAP	TOTAL_RUN	14980480000
+MAP	READ	5443577000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	430129
+MAP	VALUE_BYTE_COUNT	134031440
+MAP	MAP	9276930000
+MAP	WRITE	3369346000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	598523000
+MAP	SERIALIZE_OUTPUT	1415750000
+MAP	MAP_MEM	219904640
+SPILL	SORT_AND_SPILL	20763038000
+SPILL	QUICK_SORT	14932609000
+SPILL	SORT_COUNT	617352
+SPILL	COMBINE	0
+SPILL	WRITE	5830429000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	21480005
+SPILL	COMPRESS_BYTE_COUNT	6514574
+MERGE	TOTAL_MERGE	1445000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	38759513000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00155	0
+MAP	STARTUP_MEM	214436920
+MAP	SETUP	440000
+MAP	SETUP_MEM	214436920
+MAP	CLEANUP	92000
+MAP	CLEANUP_MEM	216296560
+MAP	TOTAL_RUN	15750476000
+MAP	READ	5617855000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	396158
+MAP	VALUE_BYTE_COUNT	134121438
+MAP	MAP	9926462000
+MAP	WRITE	4255059000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	618219000
+MAP	SERIALIZE_OUTPUT	2000377000
+MAP	MAP_MEM	216876976
+SPILL	SORT_AND_SPILL	22586034000
+SPILL	QUICK_SORT	15307142000
+SPILL	SORT_COUNT	716220
+SPILL	COMBINE	0
+SPILL	WRITE	7278892000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	24710670
+SPILL	COMPRESS_BYTE_COUNT	6766922
+MERGE	TOTAL_MERGE	1803000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	41417029000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00164	0
+MAP	STARTUP_MEM	216133024
+MAP	SETUP	535000
+MAP	SETUP_MEM	216133024
+MAP	CLEANUP	92000
+MAP	CLEANUP_MEM	232817432
+MAP	TOTAL_RUN	15698515000
+MAP	READ	4647438000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	368305
+MAP	VALUE_BYTE_COUNT	134060246
+MAP	MAP	8096145000
+MAP	WRITE	3205865000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	503708000
+MAP	SERIALIZE_OUTPUT	1414829000
+MAP	MAP_MEM	232817432
+SPILL	SORT_AND_SPILL	15135808000
+SPILL	QUICK_SORT	10097912000
+SPILL	SORT_COUNT	554187
+SPILL	COMBINE	0
+SPILL	WRITE	5037896000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	19378654
+SPILL	COMPRESS_BYTE_COUNT	5867835
+MERGE	TOTAL_MERGE	4203000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	31392541000
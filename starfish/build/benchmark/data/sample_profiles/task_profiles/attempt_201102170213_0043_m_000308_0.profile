@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00204	0
+MAP	STARTUP_MEM	216087824
+MAP	SETUP	490000
+MAP	SETUP_MEM	216087824
+MAP	CLEANUP	97000
+MAP	CLEANUP_MEM	229215816
+MAP	TOTAL_RUN	15986192000
+MAP	READ	5303660000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	444115
+MAP	VALUE_BYTE_COUNT	134027203
+MAP	MAP	10459867000
+MAP	WRITE	5676937000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	531354000
+MAP	SERIALIZE_OUTPUT	2361960000
+MAP	MAP_MEM	229215816
+SPILL	SORT_AND_SPILL	20029865000
+SPILL	QUICK_SORT	11450076000
+SPILL	SORT_COUNT	637163
+SPILL	COMBINE	0
+SPILL	WRITE	8579789000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	22068318
+SPILL	COMPRESS_BYTE_COUNT	6583633
+MERGE	TOTAL_MERGE	1410000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	36532215000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00120	0
+MAP	STARTUP_MEM	215557528
+MAP	SETUP	498000
+MAP	SETUP_MEM	215557528
+MAP	CLEANUP	105000
+MAP	CLEANUP_MEM	220076248
+MAP	TOTAL_RUN	17142580000
+MAP	READ	6804218000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	356846
+MAP	VALUE_BYTE_COUNT	133418204
+MAP	MAP	10151279000
+MAP	WRITE	4821135000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	563468000
+MAP	SERIALIZE_OUTPUT	2586744000
+MAP	MAP_MEM	220076248
+SPILL	SORT_AND_SPILL	22746429000
+SPILL	QUICK_SORT	11578768000
+SPILL	SORT_COUNT	617470
+SPILL	COMBINE	0
+SPILL	WRITE	11167661000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	21486923
+SPILL	COMPRESS_BYTE_COUNT	6097897
+MERGE	TOTAL_MERGE	1465000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	40499620000
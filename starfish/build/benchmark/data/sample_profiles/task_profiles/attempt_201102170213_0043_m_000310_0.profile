@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00171	0
+MAP	STARTUP_MEM	215294696
+MAP	SETUP	511000
+MAP	SETUP_MEM	215294696
+MAP	CLEANUP	91000
+MAP	CLEANUP_MEM	234611832
+MAP	TOTAL_RUN	17318409000
+MAP	READ	6267753000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	356454
+MAP	VALUE_BYTE_COUNT	134065144
+MAP	MAP	10383337000
+MAP	WRITE	5916503000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	817136000
+MAP	SERIALIZE_OUTPUT	2933509000
+MAP	MAP_MEM	234611832
+SPILL	SORT_AND_SPILL	19809729000
+SPILL	QUICK_SORT	13584835000
+SPILL	SORT_COUNT	645422
+SPILL	COMBINE	0
+SPILL	WRITE	6224894000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	22552656
+SPILL	COMPRESS_BYTE_COUNT	6457965
+MERGE	TOTAL_MERGE	1569000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	37724484000
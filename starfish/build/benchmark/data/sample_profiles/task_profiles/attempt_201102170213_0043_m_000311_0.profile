@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00216	0
+MAP	STARTUP_MEM	216139952
+MAP	SETUP	513000
+MAP	SETUP_MEM	216139952
+MAP	CLEANUP	115000
+MAP	CLEANUP_MEM	245490752
+MAP	TOTAL_RUN	14315744000
+MAP	READ	5828352000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	485696
+MAP	VALUE_BYTE_COUNT	134035354
+MAP	MAP	8195928000
+MAP	WRITE	3213429000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	557312000
+MAP	SERIALIZE_OUTPUT	1305579000
+MAP	MAP_MEM	245490752
+SPILL	SORT_AND_SPILL	19204704000
+SPILL	QUICK_SORT	13335112000
+SPILL	SORT_COUNT	595254
+SPILL	COMBINE	0
+SPILL	WRITE	5869592000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	21087762
+SPILL	COMPRESS_BYTE_COUNT	6371048
+MERGE	TOTAL_MERGE	1579000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	34028714000
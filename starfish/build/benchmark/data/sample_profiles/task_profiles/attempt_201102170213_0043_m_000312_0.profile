@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00207	0
+MAP	STARTUP_MEM	214644488
+MAP	SETUP	489000
+MAP	SETUP_MEM	214644488
+MAP	CLEANUP	105000
+MAP	CLEANUP_MEM	243023096
+MAP	TOTAL_RUN	15527713000
+MAP	READ	6392820000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	464009
+MAP	VALUE_BYTE_COUNT	134017100
+MAP	MAP	8866034000
+MAP	WRITE	3725465000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	623407000
+MAP	SERIALIZE_OUTPUT	1363551000
+MAP	MAP_MEM	243585256
+SPILL	SORT_AND_SPILL	19558932000
+SPILL	QUICK_SORT	13407824000
+SPILL	SORT_COUNT	624650
+SPILL	COMBINE	0
+SPILL	WRITE	6151108000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	23224008
+SPILL	COMPRESS_BYTE_COUNT	6753211
+MERGE	TOTAL_MERGE	1499000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	36681340000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00205	0
+MAP	STARTUP_MEM	216117504
+MAP	SETUP	475000
+MAP	SETUP_MEM	216117504
+MAP	CLEANUP	91000
+MAP	CLEANUP_MEM	219756448
+MAP	TOTAL_RUN	15036741000
+MAP	READ	5415464000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	454811
+MAP	VALUE_BYTE_COUNT	134023828
+MAP	MAP	9390934000
+MAP	WRITE	3582667000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	642669000
+MAP	SERIALIZE_OUTPUT	1486041000
+MAP	MAP_MEM	220612088
+SPILL	SORT_AND_SPILL	25214898000
+SPILL	QUICK_SORT	16748229000
+SPILL	SORT_COUNT	686884
+SPILL	COMBINE	0
+SPILL	WRITE	8466669000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	24598500
+SPILL	COMPRESS_BYTE_COUNT	7126195
+MERGE	TOTAL_MERGE	1590000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	40656225000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00132	0
+MAP	STARTUP_MEM	215330320
+MAP	SETUP	527000
+MAP	SETUP_MEM	215330320
+MAP	CLEANUP	97000
+MAP	CLEANUP_MEM	225297704
+MAP	TOTAL_RUN	16502435000
+MAP	READ	6515620000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	408954
+MAP	VALUE_BYTE_COUNT	134044655
+MAP	MAP	9714761000
+MAP	WRITE	4389708000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	633690000
+MAP	SERIALIZE_OUTPUT	2093085000
+MAP	MAP_MEM	225859864
+SPILL	SORT_AND_SPILL	19098182000
+SPILL	QUICK_SORT	13348066000
+SPILL	SORT_COUNT	576845
+SPILL	COMBINE	0
+SPILL	WRITE	5750116000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	20179829
+SPILL	COMPRESS_BYTE_COUNT	6169548
+MERGE	TOTAL_MERGE	1942000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	36259927000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00160	0
+MAP	STARTUP_MEM	216192488
+MAP	SETUP	513000
+MAP	SETUP_MEM	216192488
+MAP	CLEANUP	155000
+MAP	CLEANUP_MEM	224718816
+MAP	TOTAL_RUN	17214539000
+MAP	READ	6891578000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	389354
+MAP	VALUE_BYTE_COUNT	134074355
+MAP	MAP	10069712000
+MAP	WRITE	4538220000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	924081000
+MAP	SERIALIZE_OUTPUT	1578349000
+MAP	MAP_MEM	224718816
+SPILL	SORT_AND_SPILL	19933082000
+SPILL	QUICK_SORT	13467351000
+SPILL	SORT_COUNT	684280
+SPILL	COMBINE	0
+SPILL	WRITE	6465731000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	23580039
+SPILL	COMPRESS_BYTE_COUNT	6561939
+MERGE	TOTAL_MERGE	1728000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	37799535000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00141	0
+MAP	STARTUP_MEM	215277536
+MAP	SETUP	552000
+MAP	SETUP_MEM	215277536
+MAP	CLEANUP	90000
+MAP	CLEANUP_MEM	221766936
+MAP	TOTAL_RUN	16810049000
+MAP	READ	6597462000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	680918
+MAP	VALUE_BYTE_COUNT	133911163
+MAP	MAP	9863041000
+MAP	WRITE	4314389000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	672569000
+MAP	SERIALIZE_OUTPUT	1764667000
+MAP	MAP_MEM	221766936
+SPILL	SORT_AND_SPILL	23742641000
+SPILL	QUICK_SORT	16770115000
+SPILL	SORT_COUNT	735547
+SPILL	COMBINE	0
+SPILL	WRITE	6972526000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	26280488
+SPILL	COMPRESS_BYTE_COUNT	8471142
+MERGE	TOTAL_MERGE	1599000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	41098551000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00209	0
+MAP	STARTUP_MEM	215326928
+MAP	SETUP	483000
+MAP	SETUP_MEM	215326928
+MAP	CLEANUP	96000
+MAP	CLEANUP_MEM	231576048
+MAP	TOTAL_RUN	19438418000
+MAP	READ	6341513000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	502033
+MAP	VALUE_BYTE_COUNT	133164320
+MAP	MAP	12790819000
+MAP	WRITE	6940570000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	605658000
+MAP	SERIALIZE_OUTPUT	4878198000
+MAP	MAP_MEM	231576048
+SPILL	SORT_AND_SPILL	16704820000
+SPILL	QUICK_SORT	11310445000
+SPILL	SORT_COUNT	601833
+SPILL	COMBINE	0
+SPILL	WRITE	5394375000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	21311621
+SPILL	COMPRESS_BYTE_COUNT	6297376
+MERGE	TOTAL_MERGE	1627000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	36730696000
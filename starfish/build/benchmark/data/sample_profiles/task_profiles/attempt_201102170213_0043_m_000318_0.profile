@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00008	0
+MAP	STARTUP_MEM	215507240
+MAP	SETUP	482000
+MAP	SETUP_MEM	215507240
+MAP	CLEANUP	63000
+MAP	CLEANUP_MEM	232437424
+MAP	TOTAL_RUN	14333442000
+MAP	READ	5077653000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	70845
+MAP	VALUE_BYTE_COUNT	134171613
+MAP	MAP	8731930000
+MAP	WRITE	4088386000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	596919000
+MAP	SERIALIZE_OUTPUT	1551822000
+MAP	MAP_MEM	232999584
+SPILL	SORT_AND_SPILL	16246917000
+SPILL	QUICK_SORT	10438744000
+SPILL	SORT_COUNT	716835
+SPILL	COMBINE	0
+SPILL	WRITE	5808173000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	23719609
+SPILL	COMPRESS_BYTE_COUNT	5002437
+MERGE	TOTAL_MERGE	1500000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	31103318000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00181	0
+MAP	STARTUP_MEM	215262096
+MAP	SETUP	477000
+MAP	SETUP_MEM	215262096
+MAP	CLEANUP	109000
+MAP	CLEANUP_MEM	242189560
+MAP	TOTAL_RUN	16189423000
+MAP	READ	5336797000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	557165
+MAP	VALUE_BYTE_COUNT	133883550
+MAP	MAP	10460426000
+MAP	WRITE	4838975000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	958141000
+MAP	SERIALIZE_OUTPUT	1729707000
+MAP	MAP_MEM	242189560
+SPILL	SORT_AND_SPILL	25983310000
+SPILL	QUICK_SORT	16742563000
+SPILL	SORT_COUNT	704672
+SPILL	COMBINE	0
+SPILL	WRITE	9240747000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	25791952
+SPILL	COMPRESS_BYTE_COUNT	7756723
+MERGE	TOTAL_MERGE	1611000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	42703621000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00215	0
+MAP	STARTUP_MEM	214384088
+MAP	SETUP	463000
+MAP	SETUP_MEM	214384088
+MAP	CLEANUP	102000
+MAP	CLEANUP_MEM	222998552
+MAP	TOTAL_RUN	14540931000
+MAP	READ	7036422000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	393232
+MAP	VALUE_BYTE_COUNT	134069669
+MAP	MAP	7276477000
+MAP	WRITE	3257466000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	525323000
+MAP	SERIALIZE_OUTPUT	1220862000
+MAP	MAP_MEM	223560712
+SPILL	SORT_AND_SPILL	13956499000
+SPILL	QUICK_SORT	9455333000
+SPILL	SORT_COUNT	492375
+SPILL	COMBINE	0
+SPILL	WRITE	4501166000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	17585653
+SPILL	COMPRESS_BYTE_COUNT	5484805
+MERGE	TOTAL_MERGE	2032000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	32219561000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00140	0
+MAP	STARTUP_MEM	216124272
+MAP	SETUP	477000
+MAP	SETUP_MEM	216124272
+MAP	CLEANUP	97000
+MAP	CLEANUP_MEM	238596552
+MAP	TOTAL_RUN	20466411000
+MAP	READ	8686023000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	672539
+MAP	VALUE_BYTE_COUNT	133925065
+MAP	MAP	11390736000
+MAP	WRITE	5653006000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	2546868000
+MAP	SERIALIZE_OUTPUT	1510514000
+MAP	MAP_MEM	239452192
+SPILL	SORT_AND_SPILL	21754366000
+SPILL	QUICK_SORT	14375258000
+SPILL	SORT_COUNT	687459
+SPILL	COMBINE	0
+SPILL	WRITE	7379108000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	24382923
+SPILL	COMPRESS_BYTE_COUNT	7778240
+MERGE	TOTAL_MERGE	1562000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	42677522000
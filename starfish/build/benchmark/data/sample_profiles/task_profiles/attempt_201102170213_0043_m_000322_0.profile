@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00213	0
+MAP	STARTUP_MEM	215250544
+MAP	SETUP	499000
+MAP	SETUP_MEM	215250544
+MAP	CLEANUP	90000
+MAP	CLEANUP_MEM	212994856
+MAP	TOTAL_RUN	14234138000
+MAP	READ	5472715000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	564896
+MAP	VALUE_BYTE_COUNT	134004400
+MAP	MAP	8499564000
+MAP	WRITE	3892481000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	570495000
+MAP	SERIALIZE_OUTPUT	1681349000
+MAP	MAP_MEM	212994856
+SPILL	SORT_AND_SPILL	20563277000
+SPILL	QUICK_SORT	15087515000
+SPILL	SORT_COUNT	579480
+SPILL	COMBINE	0
+SPILL	WRITE	5475762000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	20834655
+SPILL	COMPRESS_BYTE_COUNT	6071424
+MERGE	TOTAL_MERGE	1543000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	36044719000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00214	0
+MAP	STARTUP_MEM	214438600
+MAP	SETUP	471000
+MAP	SETUP_MEM	214438600
+MAP	CLEANUP	112000
+MAP	CLEANUP_MEM	220917072
+MAP	TOTAL_RUN	14280840000
+MAP	READ	5750122000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	779592
+MAP	VALUE_BYTE_COUNT	133926103
+MAP	MAP	8187804000
+MAP	WRITE	3076876000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	502914000
+MAP	SERIALIZE_OUTPUT	1304379000
+MAP	MAP_MEM	220917072
+SPILL	SORT_AND_SPILL	19136608000
+SPILL	QUICK_SORT	13369196000
+SPILL	SORT_COUNT	581834
+SPILL	COMBINE	0
+SPILL	WRITE	5767412000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	21570011
+SPILL	COMPRESS_BYTE_COUNT	6671799
+MERGE	TOTAL_MERGE	7776000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	34099767000
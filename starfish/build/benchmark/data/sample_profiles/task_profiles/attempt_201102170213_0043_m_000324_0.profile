@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00114	0
+MAP	STARTUP_MEM	214671960
+MAP	SETUP	425000
+MAP	SETUP_MEM	214671960
+MAP	CLEANUP	106000
+MAP	CLEANUP_MEM	240517888
+MAP	TOTAL_RUN	20083422000
+MAP	READ	9115592000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	249592
+MAP	VALUE_BYTE_COUNT	134143606
+MAP	MAP	10830254000
+MAP	WRITE	4424917000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	528876000
+MAP	SERIALIZE_OUTPUT	2391505000
+MAP	MAP_MEM	241373632
+SPILL	SORT_AND_SPILL	17592820000
+SPILL	QUICK_SORT	11906027000
+SPILL	SORT_COUNT	612753
+SPILL	COMBINE	0
+SPILL	WRITE	5686793000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	20967508
+SPILL	COMPRESS_BYTE_COUNT	6650641
+MERGE	TOTAL_MERGE	1646000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	39935732000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00009	0
+MAP	STARTUP_MEM	215512208
+MAP	SETUP	464000
+MAP	SETUP_MEM	215512208
+MAP	CLEANUP	92000
+MAP	CLEANUP_MEM	240257016
+MAP	TOTAL_RUN	13316359000
+MAP	READ	4842804000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	81855
+MAP	VALUE_BYTE_COUNT	134173688
+MAP	MAP	8398474000
+MAP	WRITE	3993146000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	639064000
+MAP	SERIALIZE_OUTPUT	1659048000
+MAP	MAP_MEM	240257016
+SPILL	SORT_AND_SPILL	13221134000
+SPILL	QUICK_SORT	7611965000
+SPILL	SORT_COUNT	735743
+SPILL	COMBINE	0
+SPILL	WRITE	5609169000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	25648356
+SPILL	COMPRESS_BYTE_COUNT	4134744
+MERGE	TOTAL_MERGE	1463000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	27052729000
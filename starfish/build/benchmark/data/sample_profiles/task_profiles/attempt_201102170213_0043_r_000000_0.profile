@@ -0,0 +1,1333 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1904603
+SHUFFLE	COMPRESS_BYTE_COUNT	559050
+SHUFFLE	COPY_MAP_DATA	141251000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1697036
+SHUFFLE	COMPRESS_BYTE_COUNT	467531
+SHUFFLE	COPY_MAP_DATA	33385000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2221477
+SHUFFLE	COMPRESS_BYTE_COUNT	558052
+SHUFFLE	COPY_MAP_DATA	40798000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1986666
+SHUFFLE	COMPRESS_BYTE_COUNT	563822
+SHUFFLE	COPY_MAP_DATA	32348000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1996285
+SHUFFLE	COMPRESS_BYTE_COUNT	560966
+SHUFFLE	COPY_MAP_DATA	50010000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2045452
+SHUFFLE	COMPRESS_BYTE_COUNT	545002
+SHUFFLE	COPY_MAP_DATA	32072000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2096372
+SHUFFLE	COMPRESS_BYTE_COUNT	581571
+SHUFFLE	COPY_MAP_DATA	119224000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1822956
+SHUFFLE	COMPRESS_BYTE_COUNT	466830
+SHUFFLE	COPY_MAP_DATA	39073000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1939765
+SHUFFLE	COMPRESS_BYTE_COUNT	557911
+SHUFFLE	COPY_MAP_DATA	34811000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1826845
+SHUFFLE	COMPRESS_BYTE_COUNT	545967
+SHUFFLE	COPY_MAP_DATA	136434000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1957999
+SHUFFLE	COMPRESS_BYTE_COUNT	572698
+SHUFFLE	COPY_MAP_DATA	87702000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2036398
+SHUFFLE	COMPRESS_BYTE_COUNT	570377
+SHUFFLE	COPY_MAP_DATA	30957000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2010656
+SHUFFLE	COMPRESS_BYTE_COUNT	557968
+SHUFFLE	COPY_MAP_DATA	31548000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1913619
+SHUFFLE	COMPRESS_BYTE_COUNT	558570
+SHUFFLE	COPY_MAP_DATA	28860000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2045984
+SHUFFLE	COMPRESS_BYTE_COUNT	570818
+SHUFFLE	COPY_MAP_DATA	86480000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1812390
+SHUFFLE	COMPRESS_BYTE_COUNT	488923
+SHUFFLE	COPY_MAP_DATA	66933000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2082806
+SHUFFLE	COMPRESS_BYTE_COUNT	565875
+SHUFFLE	COPY_MAP_DATA	29784000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2011787
+SHUFFLE	COMPRESS_BYTE_COUNT	570948
+SHUFFLE	COPY_MAP_DATA	29631000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2044737
+SHUFFLE	COMPRESS_BYTE_COUNT	541309
+SHUFFLE	COPY_MAP_DATA	30702000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1979463
+SHUFFLE	COMPRESS_BYTE_COUNT	573175
+SHUFFLE	COPY_MAP_DATA	31602000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2064838
+SHUFFLE	COMPRESS_BYTE_COUNT	545790
+SHUFFLE	COPY_MAP_DATA	44269000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1997275
+SHUFFLE	COMPRESS_BYTE_COUNT	564887
+SHUFFLE	COPY_MAP_DATA	41130000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2100952
+SHUFFLE	COMPRESS_BYTE_COUNT	560082
+SHUFFLE	COPY_MAP_DATA	119433000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2005528
+SHUFFLE	COMPRESS_BYTE_COUNT	577928
+SHUFFLE	COPY_MAP_DATA	31780000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2036993
+SHUFFLE	COMPRESS_BYTE_COUNT	562465
+SHUFFLE	COPY_MAP_DATA	79339000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1978268
+SHUFFLE	COMPRESS_BYTE_COUNT	568420
+SHUFFLE	COPY_MAP_DATA	29138000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2058164
+SHUFFLE	COMPRESS_BYTE_COUNT	562121
+SHUFFLE	COPY_MAP_DATA	33284000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2043957
+SHUFFLE	COMPRESS_BYTE_COUNT	550524
+SHUFFLE	COPY_MAP_DATA	620948000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2110239
+SHUFFLE	COMPRESS_BYTE_COUNT	555560
+SHUFFLE	COPY_MAP_DATA	223273000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2168990
+SHUFFLE	COMPRESS_BYTE_COUNT	584545
+SHUFFLE	COPY_MAP_DATA	237775000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1871461
+SHUFFLE	COMPRESS_BYTE_COUNT	554471
+SHUFFLE	COPY_MAP_DATA	28793000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1799026
+SHUFFLE	COMPRESS_BYTE_COUNT	535952
+SHUFFLE	COPY_MAP_DATA	29709000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1739807
+SHUFFLE	COMPRESS_BYTE_COUNT	521866
+SHUFFLE	COPY_MAP_DATA	34151000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1967442
+SHUFFLE	COMPRESS_BYTE_COUNT	558667
+SHUFFLE	COPY_MAP_DATA	141365000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2016518
+SHUFFLE	COMPRESS_BYTE_COUNT	573662
+SHUFFLE	COPY_MAP_DATA	30957000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1646084
+SHUFFLE	COMPRESS_BYTE_COUNT	471202
+SHUFFLE	COPY_MAP_DATA	44438000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1865386
+SHUFFLE	COMPRESS_BYTE_COUNT	546606
+SHUFFLE	COPY_MAP_DATA	27592000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1981798
+SHUFFLE	COMPRESS_BYTE_COUNT	563705
+SHUFFLE	COPY_MAP_DATA	39421000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1801686
+SHUFFLE	COMPRESS_BYTE_COUNT	537037
+SHUFFLE	COPY_MAP_DATA	1029474000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1832398
+SHUFFLE	COMPRESS_BYTE_COUNT	547569
+SHUFFLE	COPY_MAP_DATA	74215000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1795795
+SHUFFLE	COMPRESS_BYTE_COUNT	532066
+SHUFFLE	COPY_MAP_DATA	28392000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1956539
+SHUFFLE	COMPRESS_BYTE_COUNT	569169
+SHUFFLE	COPY_MAP_DATA	3595885000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1876137
+SHUFFLE	COMPRESS_BYTE_COUNT	556219
+SHUFFLE	COPY_MAP_DATA	245886000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2513496
+SHUFFLE	COMPRESS_BYTE_COUNT	515026
+SHUFFLE	COPY_MAP_DATA	28773000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1835241
+SHUFFLE	COMPRESS_BYTE_COUNT	545735
+SHUFFLE	COPY_MAP_DATA	78609000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1773070
+SHUFFLE	COMPRESS_BYTE_COUNT	535954
+SHUFFLE	COPY_MAP_DATA	213254000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1870999
+SHUFFLE	COMPRESS_BYTE_COUNT	551512
+SHUFFLE	COPY_MAP_DATA	94708000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1742267
+SHUFFLE	COMPRESS_BYTE_COUNT	501542
+SHUFFLE	COPY_MAP_DATA	84086000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1984120
+SHUFFLE	COMPRESS_BYTE_COUNT	567639
+SHUFFLE	COPY_MAP_DATA	204243000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2036107
+SHUFFLE	COMPRESS_BYTE_COUNT	549443
+SHUFFLE	COPY_MAP_DATA	1217145000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1643811
+SHUFFLE	COMPRESS_BYTE_COUNT	477173
+SHUFFLE	COPY_MAP_DATA	104454000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1663764
+SHUFFLE	COMPRESS_BYTE_COUNT	492930
+SHUFFLE	COPY_MAP_DATA	27017000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1683050
+SHUFFLE	COMPRESS_BYTE_COUNT	482728
+SHUFFLE	COPY_MAP_DATA	25947000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1871753
+SHUFFLE	COMPRESS_BYTE_COUNT	532040
+SHUFFLE	COPY_MAP_DATA	148228000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1827354
+SHUFFLE	COMPRESS_BYTE_COUNT	543578
+SHUFFLE	COPY_MAP_DATA	314502000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1771462
+SHUFFLE	COMPRESS_BYTE_COUNT	506299
+SHUFFLE	COPY_MAP_DATA	171965000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1933121
+SHUFFLE	COMPRESS_BYTE_COUNT	548546
+SHUFFLE	COPY_MAP_DATA	29574000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1925659
+SHUFFLE	COMPRESS_BYTE_COUNT	552328
+SHUFFLE	COPY_MAP_DATA	29088000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1781344
+SHUFFLE	COMPRESS_BYTE_COUNT	526737
+SHUFFLE	COPY_MAP_DATA	625849000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1727320
+SHUFFLE	COMPRESS_BYTE_COUNT	520790
+SHUFFLE	COPY_MAP_DATA	722284000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1729607
+SHUFFLE	COMPRESS_BYTE_COUNT	492737
+SHUFFLE	COPY_MAP_DATA	981997000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1611627
+SHUFFLE	COMPRESS_BYTE_COUNT	474429
+SHUFFLE	COPY_MAP_DATA	112734000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1661775
+SHUFFLE	COMPRESS_BYTE_COUNT	482841
+SHUFFLE	COPY_MAP_DATA	494576000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1765157
+SHUFFLE	COMPRESS_BYTE_COUNT	487386
+SHUFFLE	COPY_MAP_DATA	3737516000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1685492
+SHUFFLE	COMPRESS_BYTE_COUNT	483489
+SHUFFLE	COPY_MAP_DATA	27446000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1969429
+SHUFFLE	COMPRESS_BYTE_COUNT	550431
+SHUFFLE	COPY_MAP_DATA	233403000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1971257
+SHUFFLE	COMPRESS_BYTE_COUNT	499809
+SHUFFLE	COPY_MAP_DATA	104941000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1641918
+SHUFFLE	COMPRESS_BYTE_COUNT	466091
+SHUFFLE	COPY_MAP_DATA	225530000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1583641
+SHUFFLE	COMPRESS_BYTE_COUNT	458075
+SHUFFLE	COPY_MAP_DATA	232202000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1669668
+SHUFFLE	COMPRESS_BYTE_COUNT	481154
+SHUFFLE	COPY_MAP_DATA	44129000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1906819
+SHUFFLE	COMPRESS_BYTE_COUNT	579324
+SHUFFLE	COPY_MAP_DATA	50160000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1544000
+SHUFFLE	COMPRESS_BYTE_COUNT	448906
+SHUFFLE	COPY_MAP_DATA	24850000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1607306
+SHUFFLE	COMPRESS_BYTE_COUNT	462364
+SHUFFLE	COPY_MAP_DATA	32167000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1677045
+SHUFFLE	COMPRESS_BYTE_COUNT	472785
+SHUFFLE	COPY_MAP_DATA	26196000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1565753
+SHUFFLE	COMPRESS_BYTE_COUNT	440032
+SHUFFLE	COPY_MAP_DATA	24399000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1620998
+SHUFFLE	COMPRESS_BYTE_COUNT	473599
+SHUFFLE	COPY_MAP_DATA	138279000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1628377
+SHUFFLE	COMPRESS_BYTE_COUNT	472453
+SHUFFLE	COPY_MAP_DATA	29223000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1857884
+SHUFFLE	COMPRESS_BYTE_COUNT	493427
+SHUFFLE	COPY_MAP_DATA	31726000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1605682
+SHUFFLE	COMPRESS_BYTE_COUNT	452039
+SHUFFLE	COPY_MAP_DATA	50068000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1894491
+SHUFFLE	COMPRESS_BYTE_COUNT	576691
+SHUFFLE	COPY_MAP_DATA	44480000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1620357
+SHUFFLE	COMPRESS_BYTE_COUNT	477444
+SHUFFLE	COPY_MAP_DATA	2856059000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1774177
+SHUFFLE	COMPRESS_BYTE_COUNT	518894
+SHUFFLE	COPY_MAP_DATA	1093205000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1699333
+SHUFFLE	COMPRESS_BYTE_COUNT	485431
+SHUFFLE	COPY_MAP_DATA	168075000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1844857
+SHUFFLE	COMPRESS_BYTE_COUNT	534691
+SHUFFLE	COPY_MAP_DATA	2971341000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1834253
+SHUFFLE	COMPRESS_BYTE_COUNT	497205
+SHUFFLE	COPY_MAP_DATA	25089000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1839373
+SHUFFLE	COMPRESS_BYTE_COUNT	542585
+SHUFFLE	COPY_MAP_DATA	1764241000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1574803
+SHUFFLE	COMPRESS_BYTE_COUNT	465232
+SHUFFLE	COPY_MAP_DATA	304110000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	831170
+SHUFFLE	COMPRESS_BYTE_COUNT	231882
+SHUFFLE	COPY_MAP_DATA	19324000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1530263
+SHUFFLE	COMPRESS_BYTE_COUNT	440914
+SHUFFLE	COPY_MAP_DATA	32344000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1574474
+SHUFFLE	COMPRESS_BYTE_COUNT	447835
+SHUFFLE	COPY_MAP_DATA	23236000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1711306
+SHUFFLE	COMPRESS_BYTE_COUNT	478255
+SHUFFLE	COPY_MAP_DATA	103285000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	991788
+SHUFFLE	COMPRESS_BYTE_COUNT	263283
+SHUFFLE	COPY_MAP_DATA	15817000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	936404
+SHUFFLE	COMPRESS_BYTE_COUNT	268410
+SHUFFLE	COPY_MAP_DATA	426744000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	875988
+SHUFFLE	COMPRESS_BYTE_COUNT	249822
+SHUFFLE	COPY_MAP_DATA	214369000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1066391
+SHUFFLE	COMPRESS_BYTE_COUNT	295612
+SHUFFLE	COPY_MAP_DATA	102150000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	880514
+SHUFFLE	COMPRESS_BYTE_COUNT	245563
+SHUFFLE	COPY_MAP_DATA	15866000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	816524
+SHUFFLE	COMPRESS_BYTE_COUNT	239578
+SHUFFLE	COPY_MAP_DATA	538278000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1689024
+SHUFFLE	COMPRESS_BYTE_COUNT	477384
+SHUFFLE	COPY_MAP_DATA	95578000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1426926
+SHUFFLE	COMPRESS_BYTE_COUNT	426420
+SHUFFLE	COPY_MAP_DATA	22150000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1672131
+SHUFFLE	COMPRESS_BYTE_COUNT	471537
+SHUFFLE	COPY_MAP_DATA	46195000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1653111
+SHUFFLE	COMPRESS_BYTE_COUNT	471935
+SHUFFLE	COPY_MAP_DATA	1495609000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1646509
+SHUFFLE	COMPRESS_BYTE_COUNT	488109
+SHUFFLE	COPY_MAP_DATA	1142260000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2008983
+SHUFFLE	COMPRESS_BYTE_COUNT	507494
+SHUFFLE	COPY_MAP_DATA	28308000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1493048
+SHUFFLE	COMPRESS_BYTE_COUNT	424104
+SHUFFLE	COPY_MAP_DATA	23904000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1095092
+SHUFFLE	COMPRESS_BYTE_COUNT	295091
+SHUFFLE	COPY_MAP_DATA	429005000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1594556
+SHUFFLE	COMPRESS_BYTE_COUNT	443934
+SHUFFLE	COPY_MAP_DATA	24245000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1589630
+SHUFFLE	COMPRESS_BYTE_COUNT	447500
+SHUFFLE	COPY_MAP_DATA	42242000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1757992
+SHUFFLE	COMPRESS_BYTE_COUNT	533482
+SHUFFLE	COPY_MAP_DATA	52146000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1070965
+SHUFFLE	COMPRESS_BYTE_COUNT	292335
+SHUFFLE	COPY_MAP_DATA	281210000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	973774
+SHUFFLE	COMPRESS_BYTE_COUNT	280264
+SHUFFLE	COPY_MAP_DATA	77649000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	985734
+SHUFFLE	COMPRESS_BYTE_COUNT	289574
+SHUFFLE	COPY_MAP_DATA	16226000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1844835
+SHUFFLE	COMPRESS_BYTE_COUNT	524084
+SHUFFLE	COPY_MAP_DATA	26092000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	3314589
+SHUFFLE	COMPRESS_BYTE_COUNT	504349
+SHUFFLE	COPY_MAP_DATA	34733000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1833875
+SHUFFLE	COMPRESS_BYTE_COUNT	498207
+SHUFFLE	COPY_MAP_DATA	27795000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1699591
+SHUFFLE	COMPRESS_BYTE_COUNT	478491
+SHUFFLE	COPY_MAP_DATA	25184000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	977568
+SHUFFLE	COMPRESS_BYTE_COUNT	284570
+SHUFFLE	COPY_MAP_DATA	16693000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1645534
+SHUFFLE	COMPRESS_BYTE_COUNT	498473
+SHUFFLE	COPY_MAP_DATA	25077000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1531791
+SHUFFLE	COMPRESS_BYTE_COUNT	454736
+SHUFFLE	COPY_MAP_DATA	137724000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1047750
+SHUFFLE	COMPRESS_BYTE_COUNT	296743
+SHUFFLE	COPY_MAP_DATA	17766000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1795850
+SHUFFLE	COMPRESS_BYTE_COUNT	526941
+SHUFFLE	COPY_MAP_DATA	28325000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	994122
+SHUFFLE	COMPRESS_BYTE_COUNT	289909
+SHUFFLE	COPY_MAP_DATA	16019000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1867244
+SHUFFLE	COMPRESS_BYTE_COUNT	505181
+SHUFFLE	COPY_MAP_DATA	786605000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1122331
+SHUFFLE	COMPRESS_BYTE_COUNT	291117
+SHUFFLE	COPY_MAP_DATA	91250000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1038607
+SHUFFLE	COMPRESS_BYTE_COUNT	302726
+SHUFFLE	COPY_MAP_DATA	424083000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1022867
+SHUFFLE	COMPRESS_BYTE_COUNT	288131
+SHUFFLE	COPY_MAP_DATA	76049000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1006496
+SHUFFLE	COMPRESS_BYTE_COUNT	296708
+SHUFFLE	COPY_MAP_DATA	3108611000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1059720
+SHUFFLE	COMPRESS_BYTE_COUNT	281213
+SHUFFLE	COPY_MAP_DATA	186262000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1109669
+SHUFFLE	COMPRESS_BYTE_COUNT	308569
+SHUFFLE	COPY_MAP_DATA	51510000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	991401
+SHUFFLE	COMPRESS_BYTE_COUNT	293353
+SHUFFLE	COPY_MAP_DATA	16901000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1015149
+SHUFFLE	COMPRESS_BYTE_COUNT	292691
+SHUFFLE	COPY_MAP_DATA	16426000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	995267
+SHUFFLE	COMPRESS_BYTE_COUNT	295104
+SHUFFLE	COPY_MAP_DATA	15844000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1010416
+SHUFFLE	COMPRESS_BYTE_COUNT	296029
+SHUFFLE	COPY_MAP_DATA	26084000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1029904
+SHUFFLE	COMPRESS_BYTE_COUNT	302712
+SHUFFLE	COPY_MAP_DATA	4398889000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1008800
+SHUFFLE	COMPRESS_BYTE_COUNT	295584
+SHUFFLE	COPY_MAP_DATA	15772000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1009739
+SHUFFLE	COMPRESS_BYTE_COUNT	292569
+SHUFFLE	COPY_MAP_DATA	316088000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1014692
+SHUFFLE	COMPRESS_BYTE_COUNT	298988
+SHUFFLE	COPY_MAP_DATA	491297000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1015254
+SHUFFLE	COMPRESS_BYTE_COUNT	290770
+SHUFFLE	COPY_MAP_DATA	32087000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1085700
+SHUFFLE	COMPRESS_BYTE_COUNT	296011
+SHUFFLE	COPY_MAP_DATA	99583000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1051864
+SHUFFLE	COMPRESS_BYTE_COUNT	309440
+SHUFFLE	COPY_MAP_DATA	17172000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1001750
+SHUFFLE	COMPRESS_BYTE_COUNT	300360
+SHUFFLE	COPY_MAP_DATA	25291000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1099148
+SHUFFLE	COMPRESS_BYTE_COUNT	292649
+SHUFFLE	COPY_MAP_DATA	71207000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	986705
+SHUFFLE	COMPRESS_BYTE_COUNT	300160
+SHUFFLE	COPY_MAP_DATA	73712000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1002989
+SHUFFLE	COMPRESS_BYTE_COUNT	302421
+SHUFFLE	COPY_MAP_DATA	67556000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	987240
+SHUFFLE	COMPRESS_BYTE_COUNT	293985
+SHUFFLE	COPY_MAP_DATA	17084000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	991030
+SHUFFLE	COMPRESS_BYTE_COUNT	299779
+SHUFFLE	COPY_MAP_DATA	16275000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	965615
+SHUFFLE	COMPRESS_BYTE_COUNT	295695
+SHUFFLE	COPY_MAP_DATA	25956000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	945236
+SHUFFLE	COMPRESS_BYTE_COUNT	279438
+SHUFFLE	COPY_MAP_DATA	29599000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1130385
+SHUFFLE	COMPRESS_BYTE_COUNT	310597
+SHUFFLE	COPY_MAP_DATA	17995000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	986166
+SHUFFLE	COMPRESS_BYTE_COUNT	296836
+SHUFFLE	COPY_MAP_DATA	484118000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	992386
+SHUFFLE	COMPRESS_BYTE_COUNT	302025
+SHUFFLE	COPY_MAP_DATA	47674000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1010935
+SHUFFLE	COMPRESS_BYTE_COUNT	296191
+SHUFFLE	COPY_MAP_DATA	18157000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	981576
+SHUFFLE	COMPRESS_BYTE_COUNT	292954
+SHUFFLE	COPY_MAP_DATA	215347000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	996404
+SHUFFLE	COMPRESS_BYTE_COUNT	296738
+SHUFFLE	COPY_MAP_DATA	62536000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1014711
+SHUFFLE	COMPRESS_BYTE_COUNT	293080
+SHUFFLE	COPY_MAP_DATA	948476000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1000919
+SHUFFLE	COMPRESS_BYTE_COUNT	293046
+SHUFFLE	COPY_MAP_DATA	16368000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	965069
+SHUFFLE	COMPRESS_BYTE_COUNT	295012
+SHUFFLE	COPY_MAP_DATA	17500000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1024692
+SHUFFLE	COMPRESS_BYTE_COUNT	305332
+SHUFFLE	COPY_MAP_DATA	17555000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1041973
+SHUFFLE	COMPRESS_BYTE_COUNT	282710
+SHUFFLE	COPY_MAP_DATA	39121000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	998725
+SHUFFLE	COMPRESS_BYTE_COUNT	295024
+SHUFFLE	COPY_MAP_DATA	16600000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	913907
+SHUFFLE	COMPRESS_BYTE_COUNT	286005
+SHUFFLE	COPY_MAP_DATA	35796000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1113241
+SHUFFLE	COMPRESS_BYTE_COUNT	284814
+SHUFFLE	COPY_MAP_DATA	17632000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	948601
+SHUFFLE	COMPRESS_BYTE_COUNT	293073
+SHUFFLE	COPY_MAP_DATA	75796000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	921843
+SHUFFLE	COMPRESS_BYTE_COUNT	285066
+SHUFFLE	COPY_MAP_DATA	16354000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1016001
+SHUFFLE	COMPRESS_BYTE_COUNT	292063
+SHUFFLE	COPY_MAP_DATA	17103000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1011111
+SHUFFLE	COMPRESS_BYTE_COUNT	293859
+SHUFFLE	COPY_MAP_DATA	16875000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	961046
+SHUFFLE	COMPRESS_BYTE_COUNT	294335
+SHUFFLE	COPY_MAP_DATA	169828000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1001828
+SHUFFLE	COMPRESS_BYTE_COUNT	301695
+SHUFFLE	COPY_MAP_DATA	424564000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	943363
+SHUFFLE	COMPRESS_BYTE_COUNT	283911
+SHUFFLE	COPY_MAP_DATA	25900000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1066807
+SHUFFLE	COMPRESS_BYTE_COUNT	299974
+SHUFFLE	COPY_MAP_DATA	71543000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1088394
+SHUFFLE	COMPRESS_BYTE_COUNT	297254
+SHUFFLE	COPY_MAP_DATA	246153000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1019190
+SHUFFLE	COMPRESS_BYTE_COUNT	287124
+SHUFFLE	COPY_MAP_DATA	33975000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	995495
+SHUFFLE	COMPRESS_BYTE_COUNT	299619
+SHUFFLE	COPY_MAP_DATA	55124000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	970865
+SHUFFLE	COMPRESS_BYTE_COUNT	290084
+SHUFFLE	COPY_MAP_DATA	31219000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	905529
+SHUFFLE	COMPRESS_BYTE_COUNT	279299
+SHUFFLE	COPY_MAP_DATA	16603000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	962848
+SHUFFLE	COMPRESS_BYTE_COUNT	297878
+SHUFFLE	COPY_MAP_DATA	390428000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	980838
+SHUFFLE	COMPRESS_BYTE_COUNT	297554
+SHUFFLE	COPY_MAP_DATA	692575000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	977715
+SHUFFLE	COMPRESS_BYTE_COUNT	296858
+SHUFFLE	COPY_MAP_DATA	229456000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	940465
+SHUFFLE	COMPRESS_BYTE_COUNT	286560
+SHUFFLE	COPY_MAP_DATA	211382000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	973156
+SHUFFLE	COMPRESS_BYTE_COUNT	294372
+SHUFFLE	COPY_MAP_DATA	80557000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	919983
+SHUFFLE	COMPRESS_BYTE_COUNT	281509
+SHUFFLE	COPY_MAP_DATA	62936000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	980425
+SHUFFLE	COMPRESS_BYTE_COUNT	300333
+SHUFFLE	COPY_MAP_DATA	17402000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	881246
+SHUFFLE	COMPRESS_BYTE_COUNT	276935
+SHUFFLE	COPY_MAP_DATA	254968000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	990698
+SHUFFLE	COMPRESS_BYTE_COUNT	294215
+SHUFFLE	COPY_MAP_DATA	343788000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	888329
+SHUFFLE	COMPRESS_BYTE_COUNT	275699
+SHUFFLE	COPY_MAP_DATA	202001000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	944006
+SHUFFLE	COMPRESS_BYTE_COUNT	290042
+SHUFFLE	COPY_MAP_DATA	208644000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	985397
+SHUFFLE	COMPRESS_BYTE_COUNT	295370
+SHUFFLE	COPY_MAP_DATA	118942000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	877185
+SHUFFLE	COMPRESS_BYTE_COUNT	272668
+SHUFFLE	COPY_MAP_DATA	16354000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	911070
+SHUFFLE	COMPRESS_BYTE_COUNT	282611
+SHUFFLE	COPY_MAP_DATA	68023000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	906101
+SHUFFLE	COMPRESS_BYTE_COUNT	287332
+SHUFFLE	COPY_MAP_DATA	15805000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	948254
+SHUFFLE	COMPRESS_BYTE_COUNT	293843
+SHUFFLE	COPY_MAP_DATA	16006000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	921382
+SHUFFLE	COMPRESS_BYTE_COUNT	278471
+SHUFFLE	COPY_MAP_DATA	579507000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	911577
+SHUFFLE	COMPRESS_BYTE_COUNT	278753
+SHUFFLE	COPY_MAP_DATA	95659000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	951018
+SHUFFLE	COMPRESS_BYTE_COUNT	292284
+SHUFFLE	COPY_MAP_DATA	385320000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	880973
+SHUFFLE	COMPRESS_BYTE_COUNT	277632
+SHUFFLE	COPY_MAP_DATA	1201330000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	965934
+SHUFFLE	COMPRESS_BYTE_COUNT	294866
+SHUFFLE	COPY_MAP_DATA	2359092000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	929142
+SHUFFLE	COMPRESS_BYTE_COUNT	281505
+SHUFFLE	COPY_MAP_DATA	68358000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	939592
+SHUFFLE	COMPRESS_BYTE_COUNT	289921
+SHUFFLE	COPY_MAP_DATA	213716000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	924100
+SHUFFLE	COMPRESS_BYTE_COUNT	285794
+SHUFFLE	COPY_MAP_DATA	91734000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	913364
+SHUFFLE	COMPRESS_BYTE_COUNT	281527
+SHUFFLE	COPY_MAP_DATA	760796000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	869552
+SHUFFLE	COMPRESS_BYTE_COUNT	270595
+SHUFFLE	COPY_MAP_DATA	521207000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	956528
+SHUFFLE	COMPRESS_BYTE_COUNT	281377
+SHUFFLE	COPY_MAP_DATA	1324170000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	869769
+SHUFFLE	COMPRESS_BYTE_COUNT	269988
+SHUFFLE	COPY_MAP_DATA	1580489000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	933440
+SHUFFLE	COMPRESS_BYTE_COUNT	283546
+SHUFFLE	COPY_MAP_DATA	110830000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	841116
+SHUFFLE	COMPRESS_BYTE_COUNT	251526
+SHUFFLE	COPY_MAP_DATA	21437000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	833755
+SHUFFLE	COMPRESS_BYTE_COUNT	254219
+SHUFFLE	COPY_MAP_DATA	28472000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	945601
+SHUFFLE	COMPRESS_BYTE_COUNT	291800
+SHUFFLE	COPY_MAP_DATA	233928000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	943284
+SHUFFLE	COMPRESS_BYTE_COUNT	285640
+SHUFFLE	COPY_MAP_DATA	16710000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	877588
+SHUFFLE	COMPRESS_BYTE_COUNT	272132
+SHUFFLE	COPY_MAP_DATA	87773000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	882433
+SHUFFLE	COMPRESS_BYTE_COUNT	271280
+SHUFFLE	COPY_MAP_DATA	25203000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	858836
+SHUFFLE	COMPRESS_BYTE_COUNT	264597
+SHUFFLE	COPY_MAP_DATA	16272000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	928471
+SHUFFLE	COMPRESS_BYTE_COUNT	264209
+SHUFFLE	COPY_MAP_DATA	14900000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	963077
+SHUFFLE	COMPRESS_BYTE_COUNT	290315
+SHUFFLE	COPY_MAP_DATA	17081000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	838993
+SHUFFLE	COMPRESS_BYTE_COUNT	266023
+SHUFFLE	COPY_MAP_DATA	1704915000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	887764
+SHUFFLE	COMPRESS_BYTE_COUNT	274703
+SHUFFLE	COPY_MAP_DATA	17023000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	844109
+SHUFFLE	COMPRESS_BYTE_COUNT	254877
+SHUFFLE	COPY_MAP_DATA	237684000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	817244
+SHUFFLE	COMPRESS_BYTE_COUNT	246766
+SHUFFLE	COPY_MAP_DATA	98061000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	970046
+SHUFFLE	COMPRESS_BYTE_COUNT	278764
+SHUFFLE	COPY_MAP_DATA	16245000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	821134
+SHUFFLE	COMPRESS_BYTE_COUNT	246250
+SHUFFLE	COPY_MAP_DATA	14809000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	901355
+SHUFFLE	COMPRESS_BYTE_COUNT	261277
+SHUFFLE	COPY_MAP_DATA	15234000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	868619
+SHUFFLE	COMPRESS_BYTE_COUNT	267076
+SHUFFLE	COPY_MAP_DATA	15490000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	839632
+SHUFFLE	COMPRESS_BYTE_COUNT	266619
+SHUFFLE	COPY_MAP_DATA	15885000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	862849
+SHUFFLE	COMPRESS_BYTE_COUNT	263791
+SHUFFLE	COPY_MAP_DATA	13871000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	863374
+SHUFFLE	COMPRESS_BYTE_COUNT	255652
+SHUFFLE	COPY_MAP_DATA	15616000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	844533
+SHUFFLE	COMPRESS_BYTE_COUNT	253464
+SHUFFLE	COPY_MAP_DATA	14816000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1080269
+SHUFFLE	COMPRESS_BYTE_COUNT	300704
+SHUFFLE	COPY_MAP_DATA	8740861000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	955840
+SHUFFLE	COMPRESS_BYTE_COUNT	270215
+SHUFFLE	COPY_MAP_DATA	697252000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	887023
+SHUFFLE	COMPRESS_BYTE_COUNT	260908
+SHUFFLE	COPY_MAP_DATA	14028000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	870291
+SHUFFLE	COMPRESS_BYTE_COUNT	248738
+SHUFFLE	COPY_MAP_DATA	16509000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	825633
+SHUFFLE	COMPRESS_BYTE_COUNT	244818
+SHUFFLE	COPY_MAP_DATA	821386000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	901153
+SHUFFLE	COMPRESS_BYTE_COUNT	268842
+SHUFFLE	COPY_MAP_DATA	29047000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1501080
+SHUFFLE	COMPRESS_BYTE_COUNT	273837
+SHUFFLE	COPY_MAP_DATA	1276789000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	803882
+SHUFFLE	COMPRESS_BYTE_COUNT	237983
+SHUFFLE	COPY_MAP_DATA	206381000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1012903
+SHUFFLE	COMPRESS_BYTE_COUNT	287272
+SHUFFLE	COPY_MAP_DATA	182888000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	778443
+SHUFFLE	COMPRESS_BYTE_COUNT	235213
+SHUFFLE	COPY_MAP_DATA	90910000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	782029
+SHUFFLE	COMPRESS_BYTE_COUNT	237470
+SHUFFLE	COPY_MAP_DATA	210080000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	825138
+SHUFFLE	COMPRESS_BYTE_COUNT	250077
+SHUFFLE	COPY_MAP_DATA	14737000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	815203
+SHUFFLE	COMPRESS_BYTE_COUNT	251916
+SHUFFLE	COPY_MAP_DATA	14127000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	915443
+SHUFFLE	COMPRESS_BYTE_COUNT	262414
+SHUFFLE	COPY_MAP_DATA	14321000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	834167
+SHUFFLE	COMPRESS_BYTE_COUNT	254082
+SHUFFLE	COPY_MAP_DATA	177569000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	820449
+SHUFFLE	COMPRESS_BYTE_COUNT	243781
+SHUFFLE	COPY_MAP_DATA	14882000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	819734
+SHUFFLE	COMPRESS_BYTE_COUNT	248093
+SHUFFLE	COPY_MAP_DATA	20367000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	829841
+SHUFFLE	COMPRESS_BYTE_COUNT	253366
+SHUFFLE	COPY_MAP_DATA	14095000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	838943
+SHUFFLE	COMPRESS_BYTE_COUNT	244554
+SHUFFLE	COPY_MAP_DATA	213429000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	759177
+SHUFFLE	COMPRESS_BYTE_COUNT	229379
+SHUFFLE	COPY_MAP_DATA	34077000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	795147
+SHUFFLE	COMPRESS_BYTE_COUNT	242132
+SHUFFLE	COPY_MAP_DATA	37000000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	799345
+SHUFFLE	COMPRESS_BYTE_COUNT	241264
+SHUFFLE	COPY_MAP_DATA	45633000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	849547
+SHUFFLE	COMPRESS_BYTE_COUNT	250943
+SHUFFLE	COPY_MAP_DATA	149338000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	922530
+SHUFFLE	COMPRESS_BYTE_COUNT	275608
+SHUFFLE	COPY_MAP_DATA	225298000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	797155
+SHUFFLE	COMPRESS_BYTE_COUNT	241827
+SHUFFLE	COPY_MAP_DATA	93756000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	949475
+SHUFFLE	COMPRESS_BYTE_COUNT	262075
+SHUFFLE	COPY_MAP_DATA	124875000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	784550
+SHUFFLE	COMPRESS_BYTE_COUNT	222097
+SHUFFLE	COPY_MAP_DATA	18782000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	851649
+SHUFFLE	COMPRESS_BYTE_COUNT	262192
+SHUFFLE	COPY_MAP_DATA	14500000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	887483
+SHUFFLE	COMPRESS_BYTE_COUNT	257216
+SHUFFLE	COPY_MAP_DATA	463947000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1124792
+SHUFFLE	COMPRESS_BYTE_COUNT	359164
+SHUFFLE	COPY_MAP_DATA	447884000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	875658
+SHUFFLE	COMPRESS_BYTE_COUNT	258475
+SHUFFLE	COPY_MAP_DATA	306241000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	920119
+SHUFFLE	COMPRESS_BYTE_COUNT	267989
+SHUFFLE	COPY_MAP_DATA	24307000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	771453
+SHUFFLE	COMPRESS_BYTE_COUNT	239500
+SHUFFLE	COPY_MAP_DATA	46097000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	828254
+SHUFFLE	COMPRESS_BYTE_COUNT	247930
+SHUFFLE	COPY_MAP_DATA	662552000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	805200
+SHUFFLE	COMPRESS_BYTE_COUNT	239580
+SHUFFLE	COPY_MAP_DATA	454877000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	760972
+SHUFFLE	COMPRESS_BYTE_COUNT	229939
+SHUFFLE	COPY_MAP_DATA	15889000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	756790
+SHUFFLE	COMPRESS_BYTE_COUNT	234460
+SHUFFLE	COPY_MAP_DATA	13396000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	810153
+SHUFFLE	COMPRESS_BYTE_COUNT	237791
+SHUFFLE	COPY_MAP_DATA	13606000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	793326
+SHUFFLE	COMPRESS_BYTE_COUNT	232449
+SHUFFLE	COPY_MAP_DATA	148394000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	893694
+SHUFFLE	COMPRESS_BYTE_COUNT	264796
+SHUFFLE	COPY_MAP_DATA	336739000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	798538
+SHUFFLE	COMPRESS_BYTE_COUNT	234100
+SHUFFLE	COPY_MAP_DATA	147031000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	970403
+SHUFFLE	COMPRESS_BYTE_COUNT	253536
+SHUFFLE	COPY_MAP_DATA	233999000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	934320
+SHUFFLE	COMPRESS_BYTE_COUNT	277756
+SHUFFLE	COPY_MAP_DATA	8874809000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	788641
+SHUFFLE	COMPRESS_BYTE_COUNT	228107
+SHUFFLE	COPY_MAP_DATA	13834000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	815684
+SHUFFLE	COMPRESS_BYTE_COUNT	242297
+SHUFFLE	COPY_MAP_DATA	15006000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	825637
+SHUFFLE	COMPRESS_BYTE_COUNT	243307
+SHUFFLE	COPY_MAP_DATA	66330000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	755071
+SHUFFLE	COMPRESS_BYTE_COUNT	232915
+SHUFFLE	COPY_MAP_DATA	142097000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	794012
+SHUFFLE	COMPRESS_BYTE_COUNT	238778
+SHUFFLE	COPY_MAP_DATA	343945000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	836931
+SHUFFLE	COMPRESS_BYTE_COUNT	244701
+SHUFFLE	COPY_MAP_DATA	79980000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	744657
+SHUFFLE	COMPRESS_BYTE_COUNT	224095
+SHUFFLE	COPY_MAP_DATA	37323000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	809165
+SHUFFLE	COMPRESS_BYTE_COUNT	236577
+SHUFFLE	COPY_MAP_DATA	1276769000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	781150
+SHUFFLE	COMPRESS_BYTE_COUNT	230682
+SHUFFLE	COPY_MAP_DATA	395135000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	804989
+SHUFFLE	COMPRESS_BYTE_COUNT	237327
+SHUFFLE	COPY_MAP_DATA	179036000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	882158
+SHUFFLE	COMPRESS_BYTE_COUNT	254013
+SHUFFLE	COPY_MAP_DATA	148148000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	804570
+SHUFFLE	COMPRESS_BYTE_COUNT	233730
+SHUFFLE	COPY_MAP_DATA	17525000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	851345
+SHUFFLE	COMPRESS_BYTE_COUNT	255045
+SHUFFLE	COPY_MAP_DATA	432841000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	806578
+SHUFFLE	COMPRESS_BYTE_COUNT	225152
+SHUFFLE	COPY_MAP_DATA	14206000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	860204
+SHUFFLE	COMPRESS_BYTE_COUNT	246774
+SHUFFLE	COPY_MAP_DATA	27795000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1069355
+SHUFFLE	COMPRESS_BYTE_COUNT	341899
+SHUFFLE	COPY_MAP_DATA	423097000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	765370
+SHUFFLE	COMPRESS_BYTE_COUNT	230542
+SHUFFLE	COPY_MAP_DATA	23345000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	854989
+SHUFFLE	COMPRESS_BYTE_COUNT	259762
+SHUFFLE	COPY_MAP_DATA	23991000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	834349
+SHUFFLE	COMPRESS_BYTE_COUNT	255419
+SHUFFLE	COPY_MAP_DATA	15156000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	952097
+SHUFFLE	COMPRESS_BYTE_COUNT	259113
+SHUFFLE	COPY_MAP_DATA	37234000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	890170
+SHUFFLE	COMPRESS_BYTE_COUNT	264396
+SHUFFLE	COPY_MAP_DATA	15290000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	801234
+SHUFFLE	COMPRESS_BYTE_COUNT	233921
+SHUFFLE	COPY_MAP_DATA	13287000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	758288
+SHUFFLE	COMPRESS_BYTE_COUNT	231198
+SHUFFLE	COPY_MAP_DATA	12179000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	812344
+SHUFFLE	COMPRESS_BYTE_COUNT	250001
+SHUFFLE	COPY_MAP_DATA	15171000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1045226
+SHUFFLE	COMPRESS_BYTE_COUNT	268686
+SHUFFLE	COPY_MAP_DATA	14847000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	963759
+SHUFFLE	COMPRESS_BYTE_COUNT	259261
+SHUFFLE	COPY_MAP_DATA	41684000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	927279
+SHUFFLE	COMPRESS_BYTE_COUNT	270338
+SHUFFLE	COPY_MAP_DATA	15395000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	835933
+SHUFFLE	COMPRESS_BYTE_COUNT	244428
+SHUFFLE	COPY_MAP_DATA	28606000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	916075
+SHUFFLE	COMPRESS_BYTE_COUNT	259870
+SHUFFLE	COPY_MAP_DATA	14982000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1107885
+SHUFFLE	COMPRESS_BYTE_COUNT	262174
+SHUFFLE	COPY_MAP_DATA	7183004000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	766668
+SHUFFLE	COMPRESS_BYTE_COUNT	235659
+SHUFFLE	COPY_MAP_DATA	14939000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	849487
+SHUFFLE	COMPRESS_BYTE_COUNT	250225
+SHUFFLE	COPY_MAP_DATA	390234000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	849323
+SHUFFLE	COMPRESS_BYTE_COUNT	227965
+SHUFFLE	COPY_MAP_DATA	27438000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	804950
+SHUFFLE	COMPRESS_BYTE_COUNT	234259
+SHUFFLE	COPY_MAP_DATA	626839000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	910517
+SHUFFLE	COMPRESS_BYTE_COUNT	264395
+SHUFFLE	COPY_MAP_DATA	16062000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1040289
+SHUFFLE	COMPRESS_BYTE_COUNT	316126
+SHUFFLE	COPY_MAP_DATA	83771000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	726383
+SHUFFLE	COMPRESS_BYTE_COUNT	218469
+SHUFFLE	COPY_MAP_DATA	523746000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	828822
+SHUFFLE	COMPRESS_BYTE_COUNT	245840
+SHUFFLE	COPY_MAP_DATA	623273000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	848163
+SHUFFLE	COMPRESS_BYTE_COUNT	253704
+SHUFFLE	COPY_MAP_DATA	14571000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	758288
+SHUFFLE	COMPRESS_BYTE_COUNT	231198
+SHUFFLE	COPY_MAP_DATA	2023438000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	746965
+SHUFFLE	COMPRESS_BYTE_COUNT	223364
+SHUFFLE	COPY_MAP_DATA	114484000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	691816
+SHUFFLE	COMPRESS_BYTE_COUNT	204535
+SHUFFLE	COPY_MAP_DATA	76688000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1400257
+SHUFFLE	COMPRESS_BYTE_COUNT	244321
+SHUFFLE	COPY_MAP_DATA	1240892000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	777874
+SHUFFLE	COMPRESS_BYTE_COUNT	237511
+SHUFFLE	COPY_MAP_DATA	12190000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	863660
+SHUFFLE	COMPRESS_BYTE_COUNT	249799
+SHUFFLE	COPY_MAP_DATA	14151000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	660260
+SHUFFLE	COMPRESS_BYTE_COUNT	205964
+SHUFFLE	COPY_MAP_DATA	12370000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	745235
+SHUFFLE	COMPRESS_BYTE_COUNT	227948
+SHUFFLE	COPY_MAP_DATA	24180000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1813511
+SHUFFLE	COMPRESS_BYTE_COUNT	236099
+SHUFFLE	COPY_MAP_DATA	17079000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	795865
+SHUFFLE	COMPRESS_BYTE_COUNT	230616
+SHUFFLE	COPY_MAP_DATA	94778000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1086912
+SHUFFLE	COMPRESS_BYTE_COUNT	288615
+SHUFFLE	COPY_MAP_DATA	145694000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	961503
+SHUFFLE	COMPRESS_BYTE_COUNT	286518
+SHUFFLE	COPY_MAP_DATA	218811000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	781470
+SHUFFLE	COMPRESS_BYTE_COUNT	244569
+SHUFFLE	COPY_MAP_DATA	240390000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	939967
+SHUFFLE	COMPRESS_BYTE_COUNT	250380
+SHUFFLE	COPY_MAP_DATA	13884000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	750323
+SHUFFLE	COMPRESS_BYTE_COUNT	223040
+SHUFFLE	COPY_MAP_DATA	12085000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	822646
+SHUFFLE	COMPRESS_BYTE_COUNT	238780
+SHUFFLE	COPY_MAP_DATA	13007000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	864300
+SHUFFLE	COMPRESS_BYTE_COUNT	283599
+SHUFFLE	COPY_MAP_DATA	32759000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1013742
+SHUFFLE	COMPRESS_BYTE_COUNT	315204
+SHUFFLE	COPY_MAP_DATA	16068000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	800991
+SHUFFLE	COMPRESS_BYTE_COUNT	234406
+SHUFFLE	COPY_MAP_DATA	13051000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	782687
+SHUFFLE	COMPRESS_BYTE_COUNT	246034
+SHUFFLE	COPY_MAP_DATA	14270000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	212842951861
+MERGE	READ_WRITE	210355485861
+MERGE	READ_WRITE_COUNT	2
+MERGE	COMBINE	0
+MERGE	WRITE	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	41266974000
+SORT	READ_WRITE	41159710000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	210871976
+REDUCE	SETUP	611000
+REDUCE	SETUP_MEM	210871976
+REDUCE	CLEANUP	29000
+REDUCE	CLEANUP_MEM	138344696
+REDUCE	TOTAL_RUN	120114354000
+REDUCE	READ	8256815000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	105483477000
+REDUCE	WRITE	46743011000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	74137003
+REDUCE	VALUE_BYTE_COUNT	67705899
+REDUCE	REDUCE_MEM	138346744
+REDUCE	WRITE	8571000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	792633495861
@@ -0,0 +1,1333 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1923470
+SHUFFLE	COMPRESS_BYTE_COUNT	545451
+SHUFFLE	COPY_MAP_DATA	130377000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1966597
+SHUFFLE	COMPRESS_BYTE_COUNT	546572
+SHUFFLE	COPY_MAP_DATA	30642000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1873791
+SHUFFLE	COMPRESS_BYTE_COUNT	555243
+SHUFFLE	COPY_MAP_DATA	117117000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1980039
+SHUFFLE	COMPRESS_BYTE_COUNT	563772
+SHUFFLE	COPY_MAP_DATA	32641000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1866756
+SHUFFLE	COMPRESS_BYTE_COUNT	521370
+SHUFFLE	COPY_MAP_DATA	89744000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1863410
+SHUFFLE	COMPRESS_BYTE_COUNT	544381
+SHUFFLE	COPY_MAP_DATA	32113000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1866475
+SHUFFLE	COMPRESS_BYTE_COUNT	554618
+SHUFFLE	COPY_MAP_DATA	80362000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1960793
+SHUFFLE	COMPRESS_BYTE_COUNT	543808
+SHUFFLE	COPY_MAP_DATA	69797000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1643382
+SHUFFLE	COMPRESS_BYTE_COUNT	462308
+SHUFFLE	COPY_MAP_DATA	98739000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1820415
+SHUFFLE	COMPRESS_BYTE_COUNT	471017
+SHUFFLE	COPY_MAP_DATA	27627000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2000900
+SHUFFLE	COMPRESS_BYTE_COUNT	575893
+SHUFFLE	COPY_MAP_DATA	61872000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1822462
+SHUFFLE	COMPRESS_BYTE_COUNT	548239
+SHUFFLE	COPY_MAP_DATA	29291000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1928715
+SHUFFLE	COMPRESS_BYTE_COUNT	567406
+SHUFFLE	COPY_MAP_DATA	52119000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1850457
+SHUFFLE	COMPRESS_BYTE_COUNT	542780
+SHUFFLE	COPY_MAP_DATA	41341000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1943027
+SHUFFLE	COMPRESS_BYTE_COUNT	557184
+SHUFFLE	COPY_MAP_DATA	622186000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2049861
+SHUFFLE	COMPRESS_BYTE_COUNT	559022
+SHUFFLE	COPY_MAP_DATA	159170000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1879276
+SHUFFLE	COMPRESS_BYTE_COUNT	558597
+SHUFFLE	COPY_MAP_DATA	152330000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1969303
+SHUFFLE	COMPRESS_BYTE_COUNT	564093
+SHUFFLE	COPY_MAP_DATA	28340000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2003099
+SHUFFLE	COMPRESS_BYTE_COUNT	537918
+SHUFFLE	COPY_MAP_DATA	28298000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2110238
+SHUFFLE	COMPRESS_BYTE_COUNT	566382
+SHUFFLE	COPY_MAP_DATA	31011000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2089101
+SHUFFLE	COMPRESS_BYTE_COUNT	576228
+SHUFFLE	COPY_MAP_DATA	31197000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1939340
+SHUFFLE	COMPRESS_BYTE_COUNT	567537
+SHUFFLE	COPY_MAP_DATA	88074000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1863955
+SHUFFLE	COMPRESS_BYTE_COUNT	550709
+SHUFFLE	COPY_MAP_DATA	26991000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1907317
+SHUFFLE	COMPRESS_BYTE_COUNT	564531
+SHUFFLE	COPY_MAP_DATA	227253000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2034345
+SHUFFLE	COMPRESS_BYTE_COUNT	548921
+SHUFFLE	COPY_MAP_DATA	28006000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1741035
+SHUFFLE	COMPRESS_BYTE_COUNT	478854
+SHUFFLE	COPY_MAP_DATA	24460000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1975850
+SHUFFLE	COMPRESS_BYTE_COUNT	543013
+SHUFFLE	COPY_MAP_DATA	29344000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1878087
+SHUFFLE	COMPRESS_BYTE_COUNT	563847
+SHUFFLE	COPY_MAP_DATA	46633000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1976297
+SHUFFLE	COMPRESS_BYTE_COUNT	562308
+SHUFFLE	COPY_MAP_DATA	28794000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1888129
+SHUFFLE	COMPRESS_BYTE_COUNT	560068
+SHUFFLE	COPY_MAP_DATA	118288000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1839571
+SHUFFLE	COMPRESS_BYTE_COUNT	550848
+SHUFFLE	COPY_MAP_DATA	58070000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1755408
+SHUFFLE	COMPRESS_BYTE_COUNT	524356
+SHUFFLE	COPY_MAP_DATA	115156000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1748463
+SHUFFLE	COMPRESS_BYTE_COUNT	529315
+SHUFFLE	COPY_MAP_DATA	251785000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1808238
+SHUFFLE	COMPRESS_BYTE_COUNT	551493
+SHUFFLE	COPY_MAP_DATA	26971000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1790827
+SHUFFLE	COMPRESS_BYTE_COUNT	532958
+SHUFFLE	COPY_MAP_DATA	100189000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1899946
+SHUFFLE	COMPRESS_BYTE_COUNT	561587
+SHUFFLE	COPY_MAP_DATA	29316000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1963292
+SHUFFLE	COMPRESS_BYTE_COUNT	569218
+SHUFFLE	COPY_MAP_DATA	30299000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1917856
+SHUFFLE	COMPRESS_BYTE_COUNT	556814
+SHUFFLE	COPY_MAP_DATA	31281000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1581833
+SHUFFLE	COMPRESS_BYTE_COUNT	458400
+SHUFFLE	COPY_MAP_DATA	48401000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1784021
+SHUFFLE	COMPRESS_BYTE_COUNT	539605
+SHUFFLE	COPY_MAP_DATA	28463000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1758132
+SHUFFLE	COMPRESS_BYTE_COUNT	536525
+SHUFFLE	COPY_MAP_DATA	38217000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1836614
+SHUFFLE	COMPRESS_BYTE_COUNT	549023
+SHUFFLE	COPY_MAP_DATA	29597000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1870893
+SHUFFLE	COMPRESS_BYTE_COUNT	550093
+SHUFFLE	COPY_MAP_DATA	131157000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1687798
+SHUFFLE	COMPRESS_BYTE_COUNT	427745
+SHUFFLE	COPY_MAP_DATA	81420000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1775668
+SHUFFLE	COMPRESS_BYTE_COUNT	544712
+SHUFFLE	COPY_MAP_DATA	26769000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1783369
+SHUFFLE	COMPRESS_BYTE_COUNT	541845
+SHUFFLE	COPY_MAP_DATA	142599000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1601310
+SHUFFLE	COMPRESS_BYTE_COUNT	479783
+SHUFFLE	COPY_MAP_DATA	36426000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1714088
+SHUFFLE	COMPRESS_BYTE_COUNT	528395
+SHUFFLE	COPY_MAP_DATA	25764000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1638616
+SHUFFLE	COMPRESS_BYTE_COUNT	489355
+SHUFFLE	COPY_MAP_DATA	80368000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1834435
+SHUFFLE	COMPRESS_BYTE_COUNT	550730
+SHUFFLE	COPY_MAP_DATA	26953000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1681214
+SHUFFLE	COMPRESS_BYTE_COUNT	482840
+SHUFFLE	COPY_MAP_DATA	24252000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1704122
+SHUFFLE	COMPRESS_BYTE_COUNT	496433
+SHUFFLE	COPY_MAP_DATA	115769000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1818662
+SHUFFLE	COMPRESS_BYTE_COUNT	525503
+SHUFFLE	COPY_MAP_DATA	26802000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1785587
+SHUFFLE	COMPRESS_BYTE_COUNT	522544
+SHUFFLE	COPY_MAP_DATA	46390000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2061953
+SHUFFLE	COMPRESS_BYTE_COUNT	551688
+SHUFFLE	COPY_MAP_DATA	28178000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1791987
+SHUFFLE	COMPRESS_BYTE_COUNT	541833
+SHUFFLE	COPY_MAP_DATA	36366000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1928228
+SHUFFLE	COMPRESS_BYTE_COUNT	550355
+SHUFFLE	COPY_MAP_DATA	28126000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1733844
+SHUFFLE	COMPRESS_BYTE_COUNT	520386
+SHUFFLE	COPY_MAP_DATA	74930000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1844555
+SHUFFLE	COMPRESS_BYTE_COUNT	542561
+SHUFFLE	COPY_MAP_DATA	26801000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1683029
+SHUFFLE	COMPRESS_BYTE_COUNT	512151
+SHUFFLE	COPY_MAP_DATA	38868000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1540599
+SHUFFLE	COMPRESS_BYTE_COUNT	466392
+SHUFFLE	COPY_MAP_DATA	24256000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1572486
+SHUFFLE	COMPRESS_BYTE_COUNT	464652
+SHUFFLE	COPY_MAP_DATA	24297000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1674354
+SHUFFLE	COMPRESS_BYTE_COUNT	489126
+SHUFFLE	COPY_MAP_DATA	25193000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1584634
+SHUFFLE	COMPRESS_BYTE_COUNT	474065
+SHUFFLE	COPY_MAP_DATA	25848000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1501552
+SHUFFLE	COMPRESS_BYTE_COUNT	445784
+SHUFFLE	COPY_MAP_DATA	412869000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1696499
+SHUFFLE	COMPRESS_BYTE_COUNT	483675
+SHUFFLE	COPY_MAP_DATA	69743000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1853634
+SHUFFLE	COMPRESS_BYTE_COUNT	533569
+SHUFFLE	COPY_MAP_DATA	27682000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1590619
+SHUFFLE	COMPRESS_BYTE_COUNT	448885
+SHUFFLE	COPY_MAP_DATA	23905000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1574261
+SHUFFLE	COMPRESS_BYTE_COUNT	466432
+SHUFFLE	COPY_MAP_DATA	47096000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1586002
+SHUFFLE	COMPRESS_BYTE_COUNT	467823
+SHUFFLE	COPY_MAP_DATA	34676000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1673416
+SHUFFLE	COMPRESS_BYTE_COUNT	475138
+SHUFFLE	COPY_MAP_DATA	24438000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1521598
+SHUFFLE	COMPRESS_BYTE_COUNT	448623
+SHUFFLE	COPY_MAP_DATA	24295000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1501367
+SHUFFLE	COMPRESS_BYTE_COUNT	440224
+SHUFFLE	COPY_MAP_DATA	24574000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1926453
+SHUFFLE	COMPRESS_BYTE_COUNT	581951
+SHUFFLE	COPY_MAP_DATA	224788000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1589133
+SHUFFLE	COMPRESS_BYTE_COUNT	452951
+SHUFFLE	COPY_MAP_DATA	79462000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1597118
+SHUFFLE	COMPRESS_BYTE_COUNT	464731
+SHUFFLE	COPY_MAP_DATA	40847000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1608610
+SHUFFLE	COMPRESS_BYTE_COUNT	470702
+SHUFFLE	COPY_MAP_DATA	25018000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1625030
+SHUFFLE	COMPRESS_BYTE_COUNT	474045
+SHUFFLE	COPY_MAP_DATA	36156000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1799086
+SHUFFLE	COMPRESS_BYTE_COUNT	565061
+SHUFFLE	COPY_MAP_DATA	81899000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1778264
+SHUFFLE	COMPRESS_BYTE_COUNT	520189
+SHUFFLE	COPY_MAP_DATA	698403000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1551484
+SHUFFLE	COMPRESS_BYTE_COUNT	449384
+SHUFFLE	COPY_MAP_DATA	37172000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1634159
+SHUFFLE	COMPRESS_BYTE_COUNT	470167
+SHUFFLE	COPY_MAP_DATA	28040000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1658916
+SHUFFLE	COMPRESS_BYTE_COUNT	477487
+SHUFFLE	COPY_MAP_DATA	26403000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1628785
+SHUFFLE	COMPRESS_BYTE_COUNT	475000
+SHUFFLE	COPY_MAP_DATA	25689000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1723266
+SHUFFLE	COMPRESS_BYTE_COUNT	522431
+SHUFFLE	COPY_MAP_DATA	544960000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1557360
+SHUFFLE	COMPRESS_BYTE_COUNT	463630
+SHUFFLE	COPY_MAP_DATA	948496000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1771316
+SHUFFLE	COMPRESS_BYTE_COUNT	540265
+SHUFFLE	COPY_MAP_DATA	27804000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	835086
+SHUFFLE	COMPRESS_BYTE_COUNT	234882
+SHUFFLE	COPY_MAP_DATA	4350697000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1557542
+SHUFFLE	COMPRESS_BYTE_COUNT	447928
+SHUFFLE	COPY_MAP_DATA	23496000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1465561
+SHUFFLE	COMPRESS_BYTE_COUNT	435404
+SHUFFLE	COPY_MAP_DATA	28064000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1515176
+SHUFFLE	COMPRESS_BYTE_COUNT	445629
+SHUFFLE	COPY_MAP_DATA	1502981000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	985331
+SHUFFLE	COMPRESS_BYTE_COUNT	263928
+SHUFFLE	COPY_MAP_DATA	357840000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	840593
+SHUFFLE	COMPRESS_BYTE_COUNT	244984
+SHUFFLE	COPY_MAP_DATA	530805000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	900444
+SHUFFLE	COMPRESS_BYTE_COUNT	261478
+SHUFFLE	COPY_MAP_DATA	216589000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1771542
+SHUFFLE	COMPRESS_BYTE_COUNT	482227
+SHUFFLE	COPY_MAP_DATA	61030000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	784935
+SHUFFLE	COMPRESS_BYTE_COUNT	235186
+SHUFFLE	COPY_MAP_DATA	14632000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1003025
+SHUFFLE	COMPRESS_BYTE_COUNT	291222
+SHUFFLE	COPY_MAP_DATA	17028000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1477275
+SHUFFLE	COMPRESS_BYTE_COUNT	443041
+SHUFFLE	COPY_MAP_DATA	23568000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	858449
+SHUFFLE	COMPRESS_BYTE_COUNT	243093
+SHUFFLE	COPY_MAP_DATA	14864000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1401417
+SHUFFLE	COMPRESS_BYTE_COUNT	420099
+SHUFFLE	COPY_MAP_DATA	22496000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1540345
+SHUFFLE	COMPRESS_BYTE_COUNT	458702
+SHUFFLE	COPY_MAP_DATA	26218000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1516727
+SHUFFLE	COMPRESS_BYTE_COUNT	453313
+SHUFFLE	COPY_MAP_DATA	34785000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1605393
+SHUFFLE	COMPRESS_BYTE_COUNT	480953
+SHUFFLE	COPY_MAP_DATA	245361000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1421029
+SHUFFLE	COMPRESS_BYTE_COUNT	417979
+SHUFFLE	COPY_MAP_DATA	400316000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1513987
+SHUFFLE	COMPRESS_BYTE_COUNT	442765
+SHUFFLE	COPY_MAP_DATA	24323000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1028075
+SHUFFLE	COMPRESS_BYTE_COUNT	291065
+SHUFFLE	COPY_MAP_DATA	17241000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1793615
+SHUFFLE	COMPRESS_BYTE_COUNT	541643
+SHUFFLE	COPY_MAP_DATA	644079000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1533234
+SHUFFLE	COMPRESS_BYTE_COUNT	447096
+SHUFFLE	COPY_MAP_DATA	23873000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1058235
+SHUFFLE	COMPRESS_BYTE_COUNT	292340
+SHUFFLE	COPY_MAP_DATA	125369000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	944866
+SHUFFLE	COMPRESS_BYTE_COUNT	275817
+SHUFFLE	COPY_MAP_DATA	19014000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1753536
+SHUFFLE	COMPRESS_BYTE_COUNT	514170
+SHUFFLE	COPY_MAP_DATA	27531000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	951783
+SHUFFLE	COMPRESS_BYTE_COUNT	283678
+SHUFFLE	COPY_MAP_DATA	16816000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1687548
+SHUFFLE	COMPRESS_BYTE_COUNT	501184
+SHUFFLE	COPY_MAP_DATA	7693682000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1560619
+SHUFFLE	COMPRESS_BYTE_COUNT	459935
+SHUFFLE	COPY_MAP_DATA	49550000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	957770
+SHUFFLE	COMPRESS_BYTE_COUNT	283095
+SHUFFLE	COPY_MAP_DATA	16554000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1691927
+SHUFFLE	COMPRESS_BYTE_COUNT	333893
+SHUFFLE	COPY_MAP_DATA	25186000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1819084
+SHUFFLE	COMPRESS_BYTE_COUNT	536723
+SHUFFLE	COPY_MAP_DATA	28084000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1532264
+SHUFFLE	COMPRESS_BYTE_COUNT	451759
+SHUFFLE	COPY_MAP_DATA	24203000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	975270
+SHUFFLE	COMPRESS_BYTE_COUNT	286968
+SHUFFLE	COPY_MAP_DATA	25044000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1569462
+SHUFFLE	COMPRESS_BYTE_COUNT	462832
+SHUFFLE	COPY_MAP_DATA	23892000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	967388
+SHUFFLE	COMPRESS_BYTE_COUNT	285684
+SHUFFLE	COPY_MAP_DATA	50424000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1671479
+SHUFFLE	COMPRESS_BYTE_COUNT	478708
+SHUFFLE	COPY_MAP_DATA	100553000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1011057
+SHUFFLE	COMPRESS_BYTE_COUNT	299394
+SHUFFLE	COPY_MAP_DATA	17745000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	910285
+SHUFFLE	COMPRESS_BYTE_COUNT	286220
+SHUFFLE	COPY_MAP_DATA	303142000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	970780
+SHUFFLE	COMPRESS_BYTE_COUNT	285483
+SHUFFLE	COPY_MAP_DATA	1602519000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	969516
+SHUFFLE	COMPRESS_BYTE_COUNT	290088
+SHUFFLE	COPY_MAP_DATA	527916000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	914975
+SHUFFLE	COMPRESS_BYTE_COUNT	263819
+SHUFFLE	COPY_MAP_DATA	420245000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	967265
+SHUFFLE	COMPRESS_BYTE_COUNT	291332
+SHUFFLE	COPY_MAP_DATA	17362000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1002677
+SHUFFLE	COMPRESS_BYTE_COUNT	299208
+SHUFFLE	COPY_MAP_DATA	17340000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1010525
+SHUFFLE	COMPRESS_BYTE_COUNT	301271
+SHUFFLE	COPY_MAP_DATA	17315000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	975764
+SHUFFLE	COMPRESS_BYTE_COUNT	291281
+SHUFFLE	COPY_MAP_DATA	631245000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	954697
+SHUFFLE	COMPRESS_BYTE_COUNT	293197
+SHUFFLE	COPY_MAP_DATA	221510000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1006272
+SHUFFLE	COMPRESS_BYTE_COUNT	290678
+SHUFFLE	COPY_MAP_DATA	48600000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	961629
+SHUFFLE	COMPRESS_BYTE_COUNT	284511
+SHUFFLE	COPY_MAP_DATA	16201000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	991329
+SHUFFLE	COMPRESS_BYTE_COUNT	290403
+SHUFFLE	COPY_MAP_DATA	4565307000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1078037
+SHUFFLE	COMPRESS_BYTE_COUNT	295699
+SHUFFLE	COPY_MAP_DATA	89326000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	987026
+SHUFFLE	COMPRESS_BYTE_COUNT	294631
+SHUFFLE	COPY_MAP_DATA	16365000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	971826
+SHUFFLE	COMPRESS_BYTE_COUNT	289389
+SHUFFLE	COPY_MAP_DATA	15589000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1008911
+SHUFFLE	COMPRESS_BYTE_COUNT	304590
+SHUFFLE	COPY_MAP_DATA	19844000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	940174
+SHUFFLE	COMPRESS_BYTE_COUNT	281159
+SHUFFLE	COPY_MAP_DATA	67732000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	951111
+SHUFFLE	COMPRESS_BYTE_COUNT	292149
+SHUFFLE	COPY_MAP_DATA	35350000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	982279
+SHUFFLE	COMPRESS_BYTE_COUNT	297059
+SHUFFLE	COPY_MAP_DATA	531502000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	955210
+SHUFFLE	COMPRESS_BYTE_COUNT	294126
+SHUFFLE	COPY_MAP_DATA	46487000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	924068
+SHUFFLE	COMPRESS_BYTE_COUNT	288626
+SHUFFLE	COPY_MAP_DATA	488320000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1078046
+SHUFFLE	COMPRESS_BYTE_COUNT	305568
+SHUFFLE	COPY_MAP_DATA	72599000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	975561
+SHUFFLE	COMPRESS_BYTE_COUNT	296954
+SHUFFLE	COPY_MAP_DATA	113214000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	913266
+SHUFFLE	COMPRESS_BYTE_COUNT	274272
+SHUFFLE	COPY_MAP_DATA	17914000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	998225
+SHUFFLE	COMPRESS_BYTE_COUNT	301805
+SHUFFLE	COPY_MAP_DATA	66907000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	974646
+SHUFFLE	COMPRESS_BYTE_COUNT	293977
+SHUFFLE	COPY_MAP_DATA	16944000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	954071
+SHUFFLE	COMPRESS_BYTE_COUNT	297433
+SHUFFLE	COPY_MAP_DATA	23772000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	931949
+SHUFFLE	COMPRESS_BYTE_COUNT	285941
+SHUFFLE	COPY_MAP_DATA	112558000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	958322
+SHUFFLE	COMPRESS_BYTE_COUNT	287679
+SHUFFLE	COPY_MAP_DATA	16476000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	931463
+SHUFFLE	COMPRESS_BYTE_COUNT	282021
+SHUFFLE	COPY_MAP_DATA	1712360000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	958000
+SHUFFLE	COMPRESS_BYTE_COUNT	293826
+SHUFFLE	COPY_MAP_DATA	17830000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	961843
+SHUFFLE	COMPRESS_BYTE_COUNT	287775
+SHUFFLE	COPY_MAP_DATA	16487000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	906100
+SHUFFLE	COMPRESS_BYTE_COUNT	286976
+SHUFFLE	COPY_MAP_DATA	17145000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	972069
+SHUFFLE	COMPRESS_BYTE_COUNT	267276
+SHUFFLE	COPY_MAP_DATA	15928000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	954453
+SHUFFLE	COMPRESS_BYTE_COUNT	297460
+SHUFFLE	COPY_MAP_DATA	31958000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	931867
+SHUFFLE	COMPRESS_BYTE_COUNT	285424
+SHUFFLE	COPY_MAP_DATA	27303000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1005072
+SHUFFLE	COMPRESS_BYTE_COUNT	282888
+SHUFFLE	COPY_MAP_DATA	78835000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	897359
+SHUFFLE	COMPRESS_BYTE_COUNT	277347
+SHUFFLE	COPY_MAP_DATA	78248000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	963781
+SHUFFLE	COMPRESS_BYTE_COUNT	295716
+SHUFFLE	COPY_MAP_DATA	40576000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	917585
+SHUFFLE	COMPRESS_BYTE_COUNT	286169
+SHUFFLE	COPY_MAP_DATA	16600000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1020635
+SHUFFLE	COMPRESS_BYTE_COUNT	291666
+SHUFFLE	COPY_MAP_DATA	767167000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	942194
+SHUFFLE	COMPRESS_BYTE_COUNT	291948
+SHUFFLE	COPY_MAP_DATA	65774000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	954661
+SHUFFLE	COMPRESS_BYTE_COUNT	292418
+SHUFFLE	COPY_MAP_DATA	288095000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1008597
+SHUFFLE	COMPRESS_BYTE_COUNT	302613
+SHUFFLE	COPY_MAP_DATA	448958000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	915793
+SHUFFLE	COMPRESS_BYTE_COUNT	283461
+SHUFFLE	COPY_MAP_DATA	1291792000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1089605
+SHUFFLE	COMPRESS_BYTE_COUNT	300398
+SHUFFLE	COPY_MAP_DATA	131432000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	945937
+SHUFFLE	COMPRESS_BYTE_COUNT	291052
+SHUFFLE	COPY_MAP_DATA	17810000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	959536
+SHUFFLE	COMPRESS_BYTE_COUNT	292454
+SHUFFLE	COPY_MAP_DATA	17651000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	899666
+SHUFFLE	COMPRESS_BYTE_COUNT	284376
+SHUFFLE	COPY_MAP_DATA	16612000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	945287
+SHUFFLE	COMPRESS_BYTE_COUNT	293999
+SHUFFLE	COPY_MAP_DATA	16757000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	895896
+SHUFFLE	COMPRESS_BYTE_COUNT	277514
+SHUFFLE	COPY_MAP_DATA	15910000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	927560
+SHUFFLE	COMPRESS_BYTE_COUNT	285164
+SHUFFLE	COPY_MAP_DATA	14967000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	956208
+SHUFFLE	COMPRESS_BYTE_COUNT	296244
+SHUFFLE	COPY_MAP_DATA	16773000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	948892
+SHUFFLE	COMPRESS_BYTE_COUNT	289056
+SHUFFLE	COPY_MAP_DATA	30586000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	931291
+SHUFFLE	COMPRESS_BYTE_COUNT	295468
+SHUFFLE	COPY_MAP_DATA	18662000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	936397
+SHUFFLE	COMPRESS_BYTE_COUNT	287504
+SHUFFLE	COPY_MAP_DATA	17096000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	965821
+SHUFFLE	COMPRESS_BYTE_COUNT	299495
+SHUFFLE	COPY_MAP_DATA	17436000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	923636
+SHUFFLE	COMPRESS_BYTE_COUNT	289634
+SHUFFLE	COPY_MAP_DATA	16938000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	909825
+SHUFFLE	COMPRESS_BYTE_COUNT	281541
+SHUFFLE	COPY_MAP_DATA	17241000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	872449
+SHUFFLE	COMPRESS_BYTE_COUNT	275387
+SHUFFLE	COPY_MAP_DATA	17601000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	866376
+SHUFFLE	COMPRESS_BYTE_COUNT	268386
+SHUFFLE	COPY_MAP_DATA	77706000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	904716
+SHUFFLE	COMPRESS_BYTE_COUNT	288976
+SHUFFLE	COPY_MAP_DATA	217292000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	869570
+SHUFFLE	COMPRESS_BYTE_COUNT	278448
+SHUFFLE	COPY_MAP_DATA	70681000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	879307
+SHUFFLE	COMPRESS_BYTE_COUNT	273382
+SHUFFLE	COPY_MAP_DATA	17050000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	858051
+SHUFFLE	COMPRESS_BYTE_COUNT	267200
+SHUFFLE	COPY_MAP_DATA	51606000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	939028
+SHUFFLE	COMPRESS_BYTE_COUNT	286723
+SHUFFLE	COPY_MAP_DATA	34071000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	924612
+SHUFFLE	COMPRESS_BYTE_COUNT	290339
+SHUFFLE	COPY_MAP_DATA	15682000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	890056
+SHUFFLE	COMPRESS_BYTE_COUNT	281767
+SHUFFLE	COPY_MAP_DATA	446107000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	889407
+SHUFFLE	COMPRESS_BYTE_COUNT	286373
+SHUFFLE	COPY_MAP_DATA	29766000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	873143
+SHUFFLE	COMPRESS_BYTE_COUNT	272431
+SHUFFLE	COPY_MAP_DATA	568076000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	908574
+SHUFFLE	COMPRESS_BYTE_COUNT	290214
+SHUFFLE	COPY_MAP_DATA	20824000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	893964
+SHUFFLE	COMPRESS_BYTE_COUNT	276995
+SHUFFLE	COPY_MAP_DATA	15248000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	910368
+SHUFFLE	COMPRESS_BYTE_COUNT	287324
+SHUFFLE	COPY_MAP_DATA	16300000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	943677
+SHUFFLE	COMPRESS_BYTE_COUNT	292925
+SHUFFLE	COPY_MAP_DATA	185207000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	904102
+SHUFFLE	COMPRESS_BYTE_COUNT	284634
+SHUFFLE	COPY_MAP_DATA	715254000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	867007
+SHUFFLE	COMPRESS_BYTE_COUNT	266080
+SHUFFLE	COPY_MAP_DATA	2577931000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	911847
+SHUFFLE	COMPRESS_BYTE_COUNT	282573
+SHUFFLE	COPY_MAP_DATA	16308000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	870795
+SHUFFLE	COMPRESS_BYTE_COUNT	269782
+SHUFFLE	COPY_MAP_DATA	2364622000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	824992
+SHUFFLE	COMPRESS_BYTE_COUNT	248516
+SHUFFLE	COPY_MAP_DATA	812713000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	871328
+SHUFFLE	COMPRESS_BYTE_COUNT	276126
+SHUFFLE	COPY_MAP_DATA	16588000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	860703
+SHUFFLE	COMPRESS_BYTE_COUNT	268880
+SHUFFLE	COPY_MAP_DATA	16090000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	808183
+SHUFFLE	COMPRESS_BYTE_COUNT	247420
+SHUFFLE	COPY_MAP_DATA	55321000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	914646
+SHUFFLE	COMPRESS_BYTE_COUNT	283210
+SHUFFLE	COPY_MAP_DATA	66265000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	881621
+SHUFFLE	COMPRESS_BYTE_COUNT	274677
+SHUFFLE	COPY_MAP_DATA	18574000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	853980
+SHUFFLE	COMPRESS_BYTE_COUNT	255211
+SHUFFLE	COPY_MAP_DATA	15896000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	878982
+SHUFFLE	COMPRESS_BYTE_COUNT	271844
+SHUFFLE	COPY_MAP_DATA	1426516000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	854032
+SHUFFLE	COMPRESS_BYTE_COUNT	272528
+SHUFFLE	COPY_MAP_DATA	743413000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	950015
+SHUFFLE	COMPRESS_BYTE_COUNT	293888
+SHUFFLE	COPY_MAP_DATA	2645767000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	858409
+SHUFFLE	COMPRESS_BYTE_COUNT	267746
+SHUFFLE	COPY_MAP_DATA	1940239000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	934276
+SHUFFLE	COMPRESS_BYTE_COUNT	286030
+SHUFFLE	COPY_MAP_DATA	15866000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	816655
+SHUFFLE	COMPRESS_BYTE_COUNT	264119
+SHUFFLE	COPY_MAP_DATA	36086000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	870943
+SHUFFLE	COMPRESS_BYTE_COUNT	257922
+SHUFFLE	COPY_MAP_DATA	38054000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	745183
+SHUFFLE	COMPRESS_BYTE_COUNT	236877
+SHUFFLE	COPY_MAP_DATA	14156000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	993954
+SHUFFLE	COMPRESS_BYTE_COUNT	284584
+SHUFFLE	COPY_MAP_DATA	52515000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	783231
+SHUFFLE	COMPRESS_BYTE_COUNT	242261
+SHUFFLE	COPY_MAP_DATA	758365000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	872488
+SHUFFLE	COMPRESS_BYTE_COUNT	259057
+SHUFFLE	COPY_MAP_DATA	101765000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	861829
+SHUFFLE	COMPRESS_BYTE_COUNT	262506
+SHUFFLE	COPY_MAP_DATA	15353000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	842762
+SHUFFLE	COMPRESS_BYTE_COUNT	266424
+SHUFFLE	COPY_MAP_DATA	17155000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	795418
+SHUFFLE	COMPRESS_BYTE_COUNT	246794
+SHUFFLE	COPY_MAP_DATA	14232000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	880316
+SHUFFLE	COMPRESS_BYTE_COUNT	261395
+SHUFFLE	COPY_MAP_DATA	14918000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	811565
+SHUFFLE	COMPRESS_BYTE_COUNT	245836
+SHUFFLE	COPY_MAP_DATA	18129000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	983825
+SHUFFLE	COMPRESS_BYTE_COUNT	289904
+SHUFFLE	COPY_MAP_DATA	66601000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	814766
+SHUFFLE	COMPRESS_BYTE_COUNT	246622
+SHUFFLE	COPY_MAP_DATA	902871000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	834839
+SHUFFLE	COMPRESS_BYTE_COUNT	255371
+SHUFFLE	COPY_MAP_DATA	169301000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	880595
+SHUFFLE	COMPRESS_BYTE_COUNT	248988
+SHUFFLE	COPY_MAP_DATA	14713000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	854162
+SHUFFLE	COMPRESS_BYTE_COUNT	262879
+SHUFFLE	COPY_MAP_DATA	20682000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	762796
+SHUFFLE	COMPRESS_BYTE_COUNT	234457
+SHUFFLE	COPY_MAP_DATA	1062989000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	879132
+SHUFFLE	COMPRESS_BYTE_COUNT	266729
+SHUFFLE	COPY_MAP_DATA	148738000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	815873
+SHUFFLE	COMPRESS_BYTE_COUNT	204162
+SHUFFLE	COPY_MAP_DATA	13783000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	815906
+SHUFFLE	COMPRESS_BYTE_COUNT	251759
+SHUFFLE	COPY_MAP_DATA	416808000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	765300
+SHUFFLE	COMPRESS_BYTE_COUNT	242505
+SHUFFLE	COPY_MAP_DATA	35227000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	746176
+SHUFFLE	COMPRESS_BYTE_COUNT	231250
+SHUFFLE	COPY_MAP_DATA	14185000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	986629
+SHUFFLE	COMPRESS_BYTE_COUNT	286890
+SHUFFLE	COPY_MAP_DATA	62867000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	747328
+SHUFFLE	COMPRESS_BYTE_COUNT	234066
+SHUFFLE	COPY_MAP_DATA	15920000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	798993
+SHUFFLE	COMPRESS_BYTE_COUNT	242770
+SHUFFLE	COPY_MAP_DATA	13550000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	769960
+SHUFFLE	COMPRESS_BYTE_COUNT	235809
+SHUFFLE	COPY_MAP_DATA	447455000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	814118
+SHUFFLE	COMPRESS_BYTE_COUNT	251775
+SHUFFLE	COPY_MAP_DATA	472989000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	790704
+SHUFFLE	COMPRESS_BYTE_COUNT	237751
+SHUFFLE	COPY_MAP_DATA	84616000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	776789
+SHUFFLE	COMPRESS_BYTE_COUNT	241709
+SHUFFLE	COPY_MAP_DATA	6779894000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	800572
+SHUFFLE	COMPRESS_BYTE_COUNT	245497
+SHUFFLE	COPY_MAP_DATA	236796000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	820521
+SHUFFLE	COMPRESS_BYTE_COUNT	251947
+SHUFFLE	COPY_MAP_DATA	563595000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	938256
+SHUFFLE	COMPRESS_BYTE_COUNT	279481
+SHUFFLE	COPY_MAP_DATA	1943029000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	790996
+SHUFFLE	COMPRESS_BYTE_COUNT	233622
+SHUFFLE	COPY_MAP_DATA	2712714000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	827236
+SHUFFLE	COMPRESS_BYTE_COUNT	244398
+SHUFFLE	COPY_MAP_DATA	54884000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	768890
+SHUFFLE	COMPRESS_BYTE_COUNT	233790
+SHUFFLE	COPY_MAP_DATA	31788000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	795507
+SHUFFLE	COMPRESS_BYTE_COUNT	242459
+SHUFFLE	COPY_MAP_DATA	14747000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	839947
+SHUFFLE	COMPRESS_BYTE_COUNT	257065
+SHUFFLE	COPY_MAP_DATA	13656000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	805904
+SHUFFLE	COMPRESS_BYTE_COUNT	226910
+SHUFFLE	COPY_MAP_DATA	1888674000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	840010
+SHUFFLE	COMPRESS_BYTE_COUNT	258652
+SHUFFLE	COPY_MAP_DATA	208710000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	827966
+SHUFFLE	COMPRESS_BYTE_COUNT	250191
+SHUFFLE	COPY_MAP_DATA	152233000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1179127
+SHUFFLE	COMPRESS_BYTE_COUNT	365335
+SHUFFLE	COPY_MAP_DATA	543274000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	775424
+SHUFFLE	COMPRESS_BYTE_COUNT	233656
+SHUFFLE	COPY_MAP_DATA	187299000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	747150
+SHUFFLE	COMPRESS_BYTE_COUNT	232867
+SHUFFLE	COPY_MAP_DATA	1864891000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	788169
+SHUFFLE	COMPRESS_BYTE_COUNT	232247
+SHUFFLE	COPY_MAP_DATA	13600000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	801613
+SHUFFLE	COMPRESS_BYTE_COUNT	238034
+SHUFFLE	COPY_MAP_DATA	14854000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	814619
+SHUFFLE	COMPRESS_BYTE_COUNT	250282
+SHUFFLE	COPY_MAP_DATA	15647000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	797066
+SHUFFLE	COMPRESS_BYTE_COUNT	240377
+SHUFFLE	COPY_MAP_DATA	16834000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	758606
+SHUFFLE	COMPRESS_BYTE_COUNT	231068
+SHUFFLE	COPY_MAP_DATA	509392000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1116868
+SHUFFLE	COMPRESS_BYTE_COUNT	295806
+SHUFFLE	COPY_MAP_DATA	192090000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	848208
+SHUFFLE	COMPRESS_BYTE_COUNT	265178
+SHUFFLE	COPY_MAP_DATA	218758000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	801868
+SHUFFLE	COMPRESS_BYTE_COUNT	246160
+SHUFFLE	COPY_MAP_DATA	17121000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	735150
+SHUFFLE	COMPRESS_BYTE_COUNT	224045
+SHUFFLE	COPY_MAP_DATA	113692000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	917259
+SHUFFLE	COMPRESS_BYTE_COUNT	276515
+SHUFFLE	COPY_MAP_DATA	5231768000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	744689
+SHUFFLE	COMPRESS_BYTE_COUNT	233526
+SHUFFLE	COPY_MAP_DATA	416830000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	753742
+SHUFFLE	COMPRESS_BYTE_COUNT	229730
+SHUFFLE	COPY_MAP_DATA	362358000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	732664
+SHUFFLE	COMPRESS_BYTE_COUNT	228673
+SHUFFLE	COPY_MAP_DATA	63686000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	756790
+SHUFFLE	COMPRESS_BYTE_COUNT	233803
+SHUFFLE	COPY_MAP_DATA	57425000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	811875
+SHUFFLE	COMPRESS_BYTE_COUNT	238955
+SHUFFLE	COPY_MAP_DATA	74108000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	771385
+SHUFFLE	COMPRESS_BYTE_COUNT	234051
+SHUFFLE	COPY_MAP_DATA	300158000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	756350
+SHUFFLE	COMPRESS_BYTE_COUNT	232866
+SHUFFLE	COPY_MAP_DATA	182128000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	740584
+SHUFFLE	COMPRESS_BYTE_COUNT	227013
+SHUFFLE	COPY_MAP_DATA	395891000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	710665
+SHUFFLE	COMPRESS_BYTE_COUNT	217323
+SHUFFLE	COPY_MAP_DATA	201486000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	792625
+SHUFFLE	COMPRESS_BYTE_COUNT	234289
+SHUFFLE	COPY_MAP_DATA	1927638000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	769375
+SHUFFLE	COMPRESS_BYTE_COUNT	231091
+SHUFFLE	COPY_MAP_DATA	14263000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	945087
+SHUFFLE	COMPRESS_BYTE_COUNT	270794
+SHUFFLE	COPY_MAP_DATA	17063000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	795136
+SHUFFLE	COMPRESS_BYTE_COUNT	233149
+SHUFFLE	COPY_MAP_DATA	13167000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1033788
+SHUFFLE	COMPRESS_BYTE_COUNT	337322
+SHUFFLE	COPY_MAP_DATA	205700000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	820049
+SHUFFLE	COMPRESS_BYTE_COUNT	245139
+SHUFFLE	COPY_MAP_DATA	14695000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	706596
+SHUFFLE	COMPRESS_BYTE_COUNT	219680
+SHUFFLE	COPY_MAP_DATA	33621000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	831601
+SHUFFLE	COMPRESS_BYTE_COUNT	257119
+SHUFFLE	COPY_MAP_DATA	110962000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	799625
+SHUFFLE	COMPRESS_BYTE_COUNT	229394
+SHUFFLE	COPY_MAP_DATA	218865000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	902016
+SHUFFLE	COMPRESS_BYTE_COUNT	263884
+SHUFFLE	COPY_MAP_DATA	72354000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	866293
+SHUFFLE	COMPRESS_BYTE_COUNT	257488
+SHUFFLE	COPY_MAP_DATA	58795000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	808738
+SHUFFLE	COMPRESS_BYTE_COUNT	246883
+SHUFFLE	COPY_MAP_DATA	14051000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	751741
+SHUFFLE	COMPRESS_BYTE_COUNT	227777
+SHUFFLE	COPY_MAP_DATA	48586000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	751061
+SHUFFLE	COMPRESS_BYTE_COUNT	226445
+SHUFFLE	COPY_MAP_DATA	12669000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	744211
+SHUFFLE	COMPRESS_BYTE_COUNT	225254
+SHUFFLE	COPY_MAP_DATA	3331335000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	747659
+SHUFFLE	COMPRESS_BYTE_COUNT	236237
+SHUFFLE	COPY_MAP_DATA	14776000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	769070
+SHUFFLE	COMPRESS_BYTE_COUNT	233737
+SHUFFLE	COPY_MAP_DATA	19820000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	914812
+SHUFFLE	COMPRESS_BYTE_COUNT	260861
+SHUFFLE	COPY_MAP_DATA	15505000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	791277
+SHUFFLE	COMPRESS_BYTE_COUNT	245436
+SHUFFLE	COPY_MAP_DATA	15126000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	894001
+SHUFFLE	COMPRESS_BYTE_COUNT	262993
+SHUFFLE	COPY_MAP_DATA	15604000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	746061
+SHUFFLE	COMPRESS_BYTE_COUNT	231431
+SHUFFLE	COPY_MAP_DATA	138755000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	836279
+SHUFFLE	COMPRESS_BYTE_COUNT	255286
+SHUFFLE	COPY_MAP_DATA	16188000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	731348
+SHUFFLE	COMPRESS_BYTE_COUNT	225784
+SHUFFLE	COPY_MAP_DATA	16384000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	822596
+SHUFFLE	COMPRESS_BYTE_COUNT	239733
+SHUFFLE	COPY_MAP_DATA	9154861000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	739852
+SHUFFLE	COMPRESS_BYTE_COUNT	231646
+SHUFFLE	COPY_MAP_DATA	13635000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	951474
+SHUFFLE	COMPRESS_BYTE_COUNT	259779
+SHUFFLE	COPY_MAP_DATA	15575000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	783292
+SHUFFLE	COMPRESS_BYTE_COUNT	232840
+SHUFFLE	COPY_MAP_DATA	117155000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	702767
+SHUFFLE	COMPRESS_BYTE_COUNT	216196
+SHUFFLE	COPY_MAP_DATA	688180000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	982684
+SHUFFLE	COMPRESS_BYTE_COUNT	310543
+SHUFFLE	COPY_MAP_DATA	16030000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	715731
+SHUFFLE	COMPRESS_BYTE_COUNT	168717
+SHUFFLE	COPY_MAP_DATA	12124000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	741585
+SHUFFLE	COMPRESS_BYTE_COUNT	221124
+SHUFFLE	COPY_MAP_DATA	28816000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	751061
+SHUFFLE	COMPRESS_BYTE_COUNT	226445
+SHUFFLE	COPY_MAP_DATA	5641330000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	676820
+SHUFFLE	COMPRESS_BYTE_COUNT	206445
+SHUFFLE	COPY_MAP_DATA	13440000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	725536
+SHUFFLE	COMPRESS_BYTE_COUNT	229647
+SHUFFLE	COPY_MAP_DATA	22882000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	808999
+SHUFFLE	COMPRESS_BYTE_COUNT	249410
+SHUFFLE	COPY_MAP_DATA	15322000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	823403
+SHUFFLE	COMPRESS_BYTE_COUNT	245807
+SHUFFLE	COPY_MAP_DATA	19405000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	987485
+SHUFFLE	COMPRESS_BYTE_COUNT	293839
+SHUFFLE	COPY_MAP_DATA	26599000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	819036
+SHUFFLE	COMPRESS_BYTE_COUNT	252042
+SHUFFLE	COPY_MAP_DATA	33794000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	716185
+SHUFFLE	COMPRESS_BYTE_COUNT	216706
+SHUFFLE	COPY_MAP_DATA	13537000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	876056
+SHUFFLE	COMPRESS_BYTE_COUNT	140285
+SHUFFLE	COPY_MAP_DATA	20720000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	749944
+SHUFFLE	COMPRESS_BYTE_COUNT	227492
+SHUFFLE	COPY_MAP_DATA	15863000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	820070
+SHUFFLE	COMPRESS_BYTE_COUNT	239100
+SHUFFLE	COPY_MAP_DATA	12493000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	764305
+SHUFFLE	COMPRESS_BYTE_COUNT	235138
+SHUFFLE	COPY_MAP_DATA	12235000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	661567
+SHUFFLE	COMPRESS_BYTE_COUNT	203962
+SHUFFLE	COPY_MAP_DATA	12111000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	733157
+SHUFFLE	COMPRESS_BYTE_COUNT	219713
+SHUFFLE	COPY_MAP_DATA	12063000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	777480
+SHUFFLE	COMPRESS_BYTE_COUNT	231408
+SHUFFLE	COPY_MAP_DATA	13063000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	799109
+SHUFFLE	COMPRESS_BYTE_COUNT	244675
+SHUFFLE	COPY_MAP_DATA	20970000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	945409
+SHUFFLE	COMPRESS_BYTE_COUNT	291489
+SHUFFLE	COPY_MAP_DATA	56831000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	778839
+SHUFFLE	COMPRESS_BYTE_COUNT	232166
+SHUFFLE	COPY_MAP_DATA	13539000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	956552
+SHUFFLE	COMPRESS_BYTE_COUNT	309733
+SHUFFLE	COPY_MAP_DATA	36112000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	807234
+SHUFFLE	COMPRESS_BYTE_COUNT	250917
+SHUFFLE	COPY_MAP_DATA	23728000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	259362097487
+MERGE	READ_WRITE	255359386487
+MERGE	READ_WRITE_COUNT	2
+MERGE	COMBINE	0
+MERGE	WRITE	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	33518605000
+SORT	READ_WRITE	33407001000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	130310152
+REDUCE	SETUP	290000
+REDUCE	SETUP_MEM	130310152
+REDUCE	CLEANUP	40000
+REDUCE	CLEANUP_MEM	153453768
+REDUCE	TOTAL_RUN	106017732000
+REDUCE	READ	9220158000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	89949643000
+REDUCE	WRITE	29839093000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	70184364
+REDUCE	VALUE_BYTE_COUNT	64072260
+REDUCE	REDUCE_MEM	153453768
+REDUCE	WRITE	8861000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	767173557487
@@ -0,0 +1,1333 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1966938
+SHUFFLE	COMPRESS_BYTE_COUNT	559069
+SHUFFLE	COPY_MAP_DATA	166938000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1933848
+SHUFFLE	COMPRESS_BYTE_COUNT	571608
+SHUFFLE	COPY_MAP_DATA	64740000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2012787
+SHUFFLE	COMPRESS_BYTE_COUNT	564469
+SHUFFLE	COPY_MAP_DATA	65177000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1904353
+SHUFFLE	COMPRESS_BYTE_COUNT	547745
+SHUFFLE	COPY_MAP_DATA	43468000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1678243
+SHUFFLE	COMPRESS_BYTE_COUNT	467037
+SHUFFLE	COPY_MAP_DATA	77137000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1849427
+SHUFFLE	COMPRESS_BYTE_COUNT	547088
+SHUFFLE	COPY_MAP_DATA	123656000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1991040
+SHUFFLE	COMPRESS_BYTE_COUNT	573796
+SHUFFLE	COPY_MAP_DATA	107583000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1915303
+SHUFFLE	COMPRESS_BYTE_COUNT	551683
+SHUFFLE	COPY_MAP_DATA	46345000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1836502
+SHUFFLE	COMPRESS_BYTE_COUNT	472433
+SHUFFLE	COPY_MAP_DATA	32019000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1876728
+SHUFFLE	COMPRESS_BYTE_COUNT	524163
+SHUFFLE	COPY_MAP_DATA	100353000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1931517
+SHUFFLE	COMPRESS_BYTE_COUNT	561775
+SHUFFLE	COPY_MAP_DATA	55552000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1923390
+SHUFFLE	COMPRESS_BYTE_COUNT	555960
+SHUFFLE	COPY_MAP_DATA	60912000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1969757
+SHUFFLE	COMPRESS_BYTE_COUNT	546704
+SHUFFLE	COPY_MAP_DATA	34227000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2052495
+SHUFFLE	COMPRESS_BYTE_COUNT	552440
+SHUFFLE	COPY_MAP_DATA	29799000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2026394
+SHUFFLE	COMPRESS_BYTE_COUNT	567958
+SHUFFLE	COPY_MAP_DATA	190511000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1795328
+SHUFFLE	COMPRESS_BYTE_COUNT	485176
+SHUFFLE	COPY_MAP_DATA	27133000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2016973
+SHUFFLE	COMPRESS_BYTE_COUNT	564891
+SHUFFLE	COPY_MAP_DATA	30186000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2079618
+SHUFFLE	COMPRESS_BYTE_COUNT	553650
+SHUFFLE	COPY_MAP_DATA	30445000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1931226
+SHUFFLE	COMPRESS_BYTE_COUNT	562986
+SHUFFLE	COPY_MAP_DATA	92429000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1983639
+SHUFFLE	COMPRESS_BYTE_COUNT	576479
+SHUFFLE	COPY_MAP_DATA	63451000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1957836
+SHUFFLE	COMPRESS_BYTE_COUNT	565958
+SHUFFLE	COPY_MAP_DATA	31007000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2018488
+SHUFFLE	COMPRESS_BYTE_COUNT	538974
+SHUFFLE	COPY_MAP_DATA	63698000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1906228
+SHUFFLE	COMPRESS_BYTE_COUNT	556230
+SHUFFLE	COPY_MAP_DATA	102500000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1975947
+SHUFFLE	COMPRESS_BYTE_COUNT	572751
+SHUFFLE	COPY_MAP_DATA	326265000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1945527
+SHUFFLE	COMPRESS_BYTE_COUNT	560505
+SHUFFLE	COPY_MAP_DATA	35718000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1991005
+SHUFFLE	COMPRESS_BYTE_COUNT	567935
+SHUFFLE	COPY_MAP_DATA	41511000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2023021
+SHUFFLE	COMPRESS_BYTE_COUNT	547913
+SHUFFLE	COPY_MAP_DATA	30454000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2037245
+SHUFFLE	COMPRESS_BYTE_COUNT	558026
+SHUFFLE	COPY_MAP_DATA	46233000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2140401
+SHUFFLE	COMPRESS_BYTE_COUNT	576904
+SHUFFLE	COPY_MAP_DATA	1534876000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2070778
+SHUFFLE	COMPRESS_BYTE_COUNT	553800
+SHUFFLE	COPY_MAP_DATA	198532000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1822077
+SHUFFLE	COMPRESS_BYTE_COUNT	537076
+SHUFFLE	COPY_MAP_DATA	30161000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1878363
+SHUFFLE	COMPRESS_BYTE_COUNT	553967
+SHUFFLE	COPY_MAP_DATA	181377000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1953236
+SHUFFLE	COMPRESS_BYTE_COUNT	560663
+SHUFFLE	COPY_MAP_DATA	29342000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1753413
+SHUFFLE	COMPRESS_BYTE_COUNT	527930
+SHUFFLE	COPY_MAP_DATA	35688000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1949178
+SHUFFLE	COMPRESS_BYTE_COUNT	565259
+SHUFFLE	COPY_MAP_DATA	90033000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1958239
+SHUFFLE	COMPRESS_BYTE_COUNT	558913
+SHUFFLE	COPY_MAP_DATA	30090000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1826616
+SHUFFLE	COMPRESS_BYTE_COUNT	541145
+SHUFFLE	COPY_MAP_DATA	41424000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2010683
+SHUFFLE	COMPRESS_BYTE_COUNT	572059
+SHUFFLE	COPY_MAP_DATA	31128000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1763165
+SHUFFLE	COMPRESS_BYTE_COUNT	533017
+SHUFFLE	COPY_MAP_DATA	28446000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1781853
+SHUFFLE	COMPRESS_BYTE_COUNT	535048
+SHUFFLE	COPY_MAP_DATA	82445000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1872842
+SHUFFLE	COMPRESS_BYTE_COUNT	550082
+SHUFFLE	COPY_MAP_DATA	29553000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1643073
+SHUFFLE	COMPRESS_BYTE_COUNT	466082
+SHUFFLE	COPY_MAP_DATA	59687000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1934170
+SHUFFLE	COMPRESS_BYTE_COUNT	560013
+SHUFFLE	COPY_MAP_DATA	110692000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1847774
+SHUFFLE	COMPRESS_BYTE_COUNT	548358
+SHUFFLE	COPY_MAP_DATA	27936000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1755467
+SHUFFLE	COMPRESS_BYTE_COUNT	438696
+SHUFFLE	COPY_MAP_DATA	143856000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1840184
+SHUFFLE	COMPRESS_BYTE_COUNT	544625
+SHUFFLE	COPY_MAP_DATA	28191000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1883971
+SHUFFLE	COMPRESS_BYTE_COUNT	556180
+SHUFFLE	COPY_MAP_DATA	30384000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1740231
+SHUFFLE	COMPRESS_BYTE_COUNT	534131
+SHUFFLE	COPY_MAP_DATA	855694000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1621737
+SHUFFLE	COMPRESS_BYTE_COUNT	486959
+SHUFFLE	COPY_MAP_DATA	255892000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1709564
+SHUFFLE	COMPRESS_BYTE_COUNT	487668
+SHUFFLE	COPY_MAP_DATA	92930000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1670907
+SHUFFLE	COMPRESS_BYTE_COUNT	484647
+SHUFFLE	COPY_MAP_DATA	26528000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1846104
+SHUFFLE	COMPRESS_BYTE_COUNT	530884
+SHUFFLE	COPY_MAP_DATA	27696000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1938046
+SHUFFLE	COMPRESS_BYTE_COUNT	536631
+SHUFFLE	COPY_MAP_DATA	427105000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1766503
+SHUFFLE	COMPRESS_BYTE_COUNT	505202
+SHUFFLE	COPY_MAP_DATA	607785000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1811185
+SHUFFLE	COMPRESS_BYTE_COUNT	549676
+SHUFFLE	COPY_MAP_DATA	153765000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1988620
+SHUFFLE	COMPRESS_BYTE_COUNT	560054
+SHUFFLE	COPY_MAP_DATA	52337000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1757635
+SHUFFLE	COMPRESS_BYTE_COUNT	503671
+SHUFFLE	COPY_MAP_DATA	26038000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1888731
+SHUFFLE	COMPRESS_BYTE_COUNT	543900
+SHUFFLE	COPY_MAP_DATA	159857000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1822022
+SHUFFLE	COMPRESS_BYTE_COUNT	535129
+SHUFFLE	COPY_MAP_DATA	55021000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1755847
+SHUFFLE	COMPRESS_BYTE_COUNT	523277
+SHUFFLE	COPY_MAP_DATA	2066743000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1597262
+SHUFFLE	COMPRESS_BYTE_COUNT	480362
+SHUFFLE	COPY_MAP_DATA	340742000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1685546
+SHUFFLE	COMPRESS_BYTE_COUNT	481249
+SHUFFLE	COPY_MAP_DATA	26518000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1635191
+SHUFFLE	COMPRESS_BYTE_COUNT	480401
+SHUFFLE	COPY_MAP_DATA	297330000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1627983
+SHUFFLE	COMPRESS_BYTE_COUNT	480506
+SHUFFLE	COPY_MAP_DATA	69770000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1661945
+SHUFFLE	COMPRESS_BYTE_COUNT	477677
+SHUFFLE	COPY_MAP_DATA	26125000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1528070
+SHUFFLE	COMPRESS_BYTE_COUNT	440746
+SHUFFLE	COPY_MAP_DATA	24620000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1887957
+SHUFFLE	COMPRESS_BYTE_COUNT	543369
+SHUFFLE	COPY_MAP_DATA	59929000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1976670
+SHUFFLE	COMPRESS_BYTE_COUNT	491967
+SHUFFLE	COPY_MAP_DATA	27980000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1901833
+SHUFFLE	COMPRESS_BYTE_COUNT	496514
+SHUFFLE	COPY_MAP_DATA	117633000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1538774
+SHUFFLE	COMPRESS_BYTE_COUNT	447596
+SHUFFLE	COPY_MAP_DATA	41728000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2046386
+SHUFFLE	COMPRESS_BYTE_COUNT	598204
+SHUFFLE	COPY_MAP_DATA	177856000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1855425
+SHUFFLE	COMPRESS_BYTE_COUNT	498092
+SHUFFLE	COPY_MAP_DATA	78843000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1571798
+SHUFFLE	COMPRESS_BYTE_COUNT	459201
+SHUFFLE	COPY_MAP_DATA	355787000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1960786
+SHUFFLE	COMPRESS_BYTE_COUNT	501706
+SHUFFLE	COPY_MAP_DATA	28268000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1459066
+SHUFFLE	COMPRESS_BYTE_COUNT	432013
+SHUFFLE	COPY_MAP_DATA	25112000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1564938
+SHUFFLE	COMPRESS_BYTE_COUNT	461582
+SHUFFLE	COPY_MAP_DATA	141823000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1544408
+SHUFFLE	COMPRESS_BYTE_COUNT	447119
+SHUFFLE	COPY_MAP_DATA	223836000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1568767
+SHUFFLE	COMPRESS_BYTE_COUNT	469833
+SHUFFLE	COPY_MAP_DATA	24097000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1781029
+SHUFFLE	COMPRESS_BYTE_COUNT	519264
+SHUFFLE	COPY_MAP_DATA	26263000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2231942
+SHUFFLE	COMPRESS_BYTE_COUNT	541791
+SHUFFLE	COPY_MAP_DATA	255849000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1820170
+SHUFFLE	COMPRESS_BYTE_COUNT	564702
+SHUFFLE	COPY_MAP_DATA	164614000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1676632
+SHUFFLE	COMPRESS_BYTE_COUNT	480050
+SHUFFLE	COPY_MAP_DATA	29676000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1658959
+SHUFFLE	COMPRESS_BYTE_COUNT	479191
+SHUFFLE	COPY_MAP_DATA	25585000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1738485
+SHUFFLE	COMPRESS_BYTE_COUNT	525760
+SHUFFLE	COPY_MAP_DATA	2253614000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1903304
+SHUFFLE	COMPRESS_BYTE_COUNT	510302
+SHUFFLE	COPY_MAP_DATA	2337920000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1559891
+SHUFFLE	COMPRESS_BYTE_COUNT	465400
+SHUFFLE	COPY_MAP_DATA	189726000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1767505
+SHUFFLE	COMPRESS_BYTE_COUNT	532812
+SHUFFLE	COPY_MAP_DATA	28378000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	844883
+SHUFFLE	COMPRESS_BYTE_COUNT	236997
+SHUFFLE	COPY_MAP_DATA	182671000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1612296
+SHUFFLE	COMPRESS_BYTE_COUNT	441222
+SHUFFLE	COPY_MAP_DATA	26944000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1537810
+SHUFFLE	COMPRESS_BYTE_COUNT	449521
+SHUFFLE	COPY_MAP_DATA	26858000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1510277
+SHUFFLE	COMPRESS_BYTE_COUNT	437571
+SHUFFLE	COPY_MAP_DATA	358411000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	991621
+SHUFFLE	COMPRESS_BYTE_COUNT	264723
+SHUFFLE	COPY_MAP_DATA	418726000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	925401
+SHUFFLE	COMPRESS_BYTE_COUNT	266853
+SHUFFLE	COPY_MAP_DATA	218079000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2138518
+SHUFFLE	COMPRESS_BYTE_COUNT	517045
+SHUFFLE	COPY_MAP_DATA	32472000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	869929
+SHUFFLE	COMPRESS_BYTE_COUNT	247627
+SHUFFLE	COPY_MAP_DATA	115633000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	869353
+SHUFFLE	COMPRESS_BYTE_COUNT	242588
+SHUFFLE	COPY_MAP_DATA	583302000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	808892
+SHUFFLE	COMPRESS_BYTE_COUNT	240727
+SHUFFLE	COPY_MAP_DATA	283086000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1056801
+SHUFFLE	COMPRESS_BYTE_COUNT	297016
+SHUFFLE	COPY_MAP_DATA	20004000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1566910
+SHUFFLE	COMPRESS_BYTE_COUNT	458961
+SHUFFLE	COPY_MAP_DATA	27070000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1478446
+SHUFFLE	COMPRESS_BYTE_COUNT	422132
+SHUFFLE	COPY_MAP_DATA	23550000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1626391
+SHUFFLE	COMPRESS_BYTE_COUNT	472497
+SHUFFLE	COPY_MAP_DATA	172775000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1417052
+SHUFFLE	COMPRESS_BYTE_COUNT	414931
+SHUFFLE	COPY_MAP_DATA	1569650000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1674238
+SHUFFLE	COMPRESS_BYTE_COUNT	473784
+SHUFFLE	COPY_MAP_DATA	25354000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1708957
+SHUFFLE	COMPRESS_BYTE_COUNT	494016
+SHUFFLE	COPY_MAP_DATA	25525000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1624071
+SHUFFLE	COMPRESS_BYTE_COUNT	463538
+SHUFFLE	COPY_MAP_DATA	24906000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1071451
+SHUFFLE	COMPRESS_BYTE_COUNT	292787
+SHUFFLE	COPY_MAP_DATA	157380000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1533497
+SHUFFLE	COMPRESS_BYTE_COUNT	439905
+SHUFFLE	COPY_MAP_DATA	42276000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	968434
+SHUFFLE	COMPRESS_BYTE_COUNT	285581
+SHUFFLE	COPY_MAP_DATA	612187000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1684787
+SHUFFLE	COMPRESS_BYTE_COUNT	525540
+SHUFFLE	COPY_MAP_DATA	246534000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1871445
+SHUFFLE	COMPRESS_BYTE_COUNT	526902
+SHUFFLE	COPY_MAP_DATA	28669000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	949652
+SHUFFLE	COMPRESS_BYTE_COUNT	275468
+SHUFFLE	COPY_MAP_DATA	410840000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1744008
+SHUFFLE	COMPRESS_BYTE_COUNT	487670
+SHUFFLE	COPY_MAP_DATA	31374000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1068838
+SHUFFLE	COMPRESS_BYTE_COUNT	295086
+SHUFFLE	COPY_MAP_DATA	555571000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1669920
+SHUFFLE	COMPRESS_BYTE_COUNT	475186
+SHUFFLE	COPY_MAP_DATA	163544000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	966222
+SHUFFLE	COMPRESS_BYTE_COUNT	282055
+SHUFFLE	COPY_MAP_DATA	18674000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1645909
+SHUFFLE	COMPRESS_BYTE_COUNT	496404
+SHUFFLE	COPY_MAP_DATA	221421000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1298734
+SHUFFLE	COMPRESS_BYTE_COUNT	311114
+SHUFFLE	COPY_MAP_DATA	393887000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1745413
+SHUFFLE	COMPRESS_BYTE_COUNT	523495
+SHUFFLE	COPY_MAP_DATA	87507000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1027115
+SHUFFLE	COMPRESS_BYTE_COUNT	293372
+SHUFFLE	COPY_MAP_DATA	1383675000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1600058
+SHUFFLE	COMPRESS_BYTE_COUNT	464435
+SHUFFLE	COPY_MAP_DATA	26355000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	980341
+SHUFFLE	COMPRESS_BYTE_COUNT	287245
+SHUFFLE	COPY_MAP_DATA	31528000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2234100
+SHUFFLE	COMPRESS_BYTE_COUNT	539744
+SHUFFLE	COPY_MAP_DATA	60944000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	932343
+SHUFFLE	COMPRESS_BYTE_COUNT	287865
+SHUFFLE	COPY_MAP_DATA	439585000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1025860
+SHUFFLE	COMPRESS_BYTE_COUNT	299740
+SHUFFLE	COPY_MAP_DATA	192226000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	984021
+SHUFFLE	COMPRESS_BYTE_COUNT	291844
+SHUFFLE	COPY_MAP_DATA	87354000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	908296
+SHUFFLE	COMPRESS_BYTE_COUNT	264342
+SHUFFLE	COPY_MAP_DATA	2232022000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1008680
+SHUFFLE	COMPRESS_BYTE_COUNT	290481
+SHUFFLE	COPY_MAP_DATA	17471000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	973335
+SHUFFLE	COMPRESS_BYTE_COUNT	290127
+SHUFFLE	COPY_MAP_DATA	18509000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	999329
+SHUFFLE	COMPRESS_BYTE_COUNT	292781
+SHUFFLE	COPY_MAP_DATA	18300000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1002876
+SHUFFLE	COMPRESS_BYTE_COUNT	299122
+SHUFFLE	COPY_MAP_DATA	20796000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1010132
+SHUFFLE	COMPRESS_BYTE_COUNT	295223
+SHUFFLE	COPY_MAP_DATA	38371000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	990823
+SHUFFLE	COMPRESS_BYTE_COUNT	297200
+SHUFFLE	COPY_MAP_DATA	180603000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1028768
+SHUFFLE	COMPRESS_BYTE_COUNT	302651
+SHUFFLE	COPY_MAP_DATA	17021000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	993605
+SHUFFLE	COMPRESS_BYTE_COUNT	292503
+SHUFFLE	COPY_MAP_DATA	45561000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	975963
+SHUFFLE	COMPRESS_BYTE_COUNT	285576
+SHUFFLE	COPY_MAP_DATA	15743000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	999490
+SHUFFLE	COMPRESS_BYTE_COUNT	288525
+SHUFFLE	COPY_MAP_DATA	16091000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	990362
+SHUFFLE	COMPRESS_BYTE_COUNT	295218
+SHUFFLE	COPY_MAP_DATA	15675000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1053007
+SHUFFLE	COMPRESS_BYTE_COUNT	289882
+SHUFFLE	COPY_MAP_DATA	56711000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	972012
+SHUFFLE	COMPRESS_BYTE_COUNT	285188
+SHUFFLE	COPY_MAP_DATA	17513000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	994731
+SHUFFLE	COMPRESS_BYTE_COUNT	296251
+SHUFFLE	COPY_MAP_DATA	17528000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1046055
+SHUFFLE	COMPRESS_BYTE_COUNT	309661
+SHUFFLE	COPY_MAP_DATA	17837000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	953294
+SHUFFLE	COMPRESS_BYTE_COUNT	293918
+SHUFFLE	COPY_MAP_DATA	16980000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	988166
+SHUFFLE	COMPRESS_BYTE_COUNT	300355
+SHUFFLE	COPY_MAP_DATA	28988000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1114543
+SHUFFLE	COMPRESS_BYTE_COUNT	306135
+SHUFFLE	COPY_MAP_DATA	105772000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1000645
+SHUFFLE	COMPRESS_BYTE_COUNT	301065
+SHUFFLE	COPY_MAP_DATA	493245000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	986089
+SHUFFLE	COMPRESS_BYTE_COUNT	292940
+SHUFFLE	COPY_MAP_DATA	17926000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	925950
+SHUFFLE	COMPRESS_BYTE_COUNT	273491
+SHUFFLE	COPY_MAP_DATA	46658000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	959440
+SHUFFLE	COMPRESS_BYTE_COUNT	293169
+SHUFFLE	COPY_MAP_DATA	17734000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	985742
+SHUFFLE	COMPRESS_BYTE_COUNT	295554
+SHUFFLE	COPY_MAP_DATA	878733000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	985574
+SHUFFLE	COMPRESS_BYTE_COUNT	291723
+SHUFFLE	COPY_MAP_DATA	17136000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	980556
+SHUFFLE	COMPRESS_BYTE_COUNT	303340
+SHUFFLE	COPY_MAP_DATA	26675000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	955282
+SHUFFLE	COMPRESS_BYTE_COUNT	289234
+SHUFFLE	COPY_MAP_DATA	58114000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	960023
+SHUFFLE	COMPRESS_BYTE_COUNT	286629
+SHUFFLE	COPY_MAP_DATA	17990000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	938496
+SHUFFLE	COMPRESS_BYTE_COUNT	289259
+SHUFFLE	COPY_MAP_DATA	1673607000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	993796
+SHUFFLE	COMPRESS_BYTE_COUNT	288584
+SHUFFLE	COPY_MAP_DATA	1642233000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1029649
+SHUFFLE	COMPRESS_BYTE_COUNT	307265
+SHUFFLE	COPY_MAP_DATA	16779000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	972335
+SHUFFLE	COMPRESS_BYTE_COUNT	294793
+SHUFFLE	COPY_MAP_DATA	518810000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1083719
+SHUFFLE	COMPRESS_BYTE_COUNT	278657
+SHUFFLE	COPY_MAP_DATA	114076000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	939887
+SHUFFLE	COMPRESS_BYTE_COUNT	290890
+SHUFFLE	COPY_MAP_DATA	17449000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	945486
+SHUFFLE	COMPRESS_BYTE_COUNT	293771
+SHUFFLE	COPY_MAP_DATA	116124000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	961125
+SHUFFLE	COMPRESS_BYTE_COUNT	289380
+SHUFFLE	COPY_MAP_DATA	16933000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1070940
+SHUFFLE	COMPRESS_BYTE_COUNT	289319
+SHUFFLE	COPY_MAP_DATA	520933000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	923580
+SHUFFLE	COMPRESS_BYTE_COUNT	282774
+SHUFFLE	COPY_MAP_DATA	359688000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	985971
+SHUFFLE	COMPRESS_BYTE_COUNT	296412
+SHUFFLE	COPY_MAP_DATA	431660000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	985575
+SHUFFLE	COMPRESS_BYTE_COUNT	292479
+SHUFFLE	COPY_MAP_DATA	135679000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	977120
+SHUFFLE	COMPRESS_BYTE_COUNT	294277
+SHUFFLE	COPY_MAP_DATA	16711000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1019862
+SHUFFLE	COMPRESS_BYTE_COUNT	301830
+SHUFFLE	COPY_MAP_DATA	179981000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	951057
+SHUFFLE	COMPRESS_BYTE_COUNT	283976
+SHUFFLE	COPY_MAP_DATA	310083000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1031400
+SHUFFLE	COMPRESS_BYTE_COUNT	298438
+SHUFFLE	COPY_MAP_DATA	18819000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1005005
+SHUFFLE	COMPRESS_BYTE_COUNT	289275
+SHUFFLE	COPY_MAP_DATA	55236000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	971867
+SHUFFLE	COMPRESS_BYTE_COUNT	292661
+SHUFFLE	COPY_MAP_DATA	198909000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	972060
+SHUFFLE	COMPRESS_BYTE_COUNT	295738
+SHUFFLE	COPY_MAP_DATA	214700000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	981218
+SHUFFLE	COMPRESS_BYTE_COUNT	300282
+SHUFFLE	COPY_MAP_DATA	70501000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	953992
+SHUFFLE	COMPRESS_BYTE_COUNT	292097
+SHUFFLE	COPY_MAP_DATA	41371000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	978839
+SHUFFLE	COMPRESS_BYTE_COUNT	298672
+SHUFFLE	COPY_MAP_DATA	17657000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	972667
+SHUFFLE	COMPRESS_BYTE_COUNT	290876
+SHUFFLE	COPY_MAP_DATA	105572000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	952404
+SHUFFLE	COMPRESS_BYTE_COUNT	291388
+SHUFFLE	COPY_MAP_DATA	61170000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	962783
+SHUFFLE	COMPRESS_BYTE_COUNT	298036
+SHUFFLE	COPY_MAP_DATA	428284000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	916864
+SHUFFLE	COMPRESS_BYTE_COUNT	280884
+SHUFFLE	COPY_MAP_DATA	15728000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	991632
+SHUFFLE	COMPRESS_BYTE_COUNT	291418
+SHUFFLE	COPY_MAP_DATA	15535000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	953826
+SHUFFLE	COMPRESS_BYTE_COUNT	286748
+SHUFFLE	COPY_MAP_DATA	15256000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	930715
+SHUFFLE	COMPRESS_BYTE_COUNT	287892
+SHUFFLE	COPY_MAP_DATA	75188000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	973047
+SHUFFLE	COMPRESS_BYTE_COUNT	292723
+SHUFFLE	COPY_MAP_DATA	17540000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	899483
+SHUFFLE	COMPRESS_BYTE_COUNT	276888
+SHUFFLE	COPY_MAP_DATA	801210000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	909280
+SHUFFLE	COMPRESS_BYTE_COUNT	279667
+SHUFFLE	COPY_MAP_DATA	192130000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	928195
+SHUFFLE	COMPRESS_BYTE_COUNT	282342
+SHUFFLE	COPY_MAP_DATA	123222000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	900016
+SHUFFLE	COMPRESS_BYTE_COUNT	278184
+SHUFFLE	COPY_MAP_DATA	218671000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	895903
+SHUFFLE	COMPRESS_BYTE_COUNT	273575
+SHUFFLE	COPY_MAP_DATA	16618000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	898499
+SHUFFLE	COMPRESS_BYTE_COUNT	275558
+SHUFFLE	COPY_MAP_DATA	73185000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	961501
+SHUFFLE	COMPRESS_BYTE_COUNT	292861
+SHUFFLE	COPY_MAP_DATA	147180000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	933073
+SHUFFLE	COMPRESS_BYTE_COUNT	292081
+SHUFFLE	COPY_MAP_DATA	17864000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	896130
+SHUFFLE	COMPRESS_BYTE_COUNT	279858
+SHUFFLE	COPY_MAP_DATA	176626000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	955778
+SHUFFLE	COMPRESS_BYTE_COUNT	293273
+SHUFFLE	COPY_MAP_DATA	46637000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	948233
+SHUFFLE	COMPRESS_BYTE_COUNT	294265
+SHUFFLE	COPY_MAP_DATA	761892000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	915669
+SHUFFLE	COMPRESS_BYTE_COUNT	280632
+SHUFFLE	COPY_MAP_DATA	533118000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	921820
+SHUFFLE	COMPRESS_BYTE_COUNT	287191
+SHUFFLE	COPY_MAP_DATA	288564000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	918366
+SHUFFLE	COMPRESS_BYTE_COUNT	278582
+SHUFFLE	COPY_MAP_DATA	112889000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	893102
+SHUFFLE	COMPRESS_BYTE_COUNT	283489
+SHUFFLE	COPY_MAP_DATA	96974000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	908837
+SHUFFLE	COMPRESS_BYTE_COUNT	284285
+SHUFFLE	COPY_MAP_DATA	90359000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	871406
+SHUFFLE	COMPRESS_BYTE_COUNT	269240
+SHUFFLE	COPY_MAP_DATA	282058000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	894005
+SHUFFLE	COMPRESS_BYTE_COUNT	273259
+SHUFFLE	COPY_MAP_DATA	90733000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	857850
+SHUFFLE	COMPRESS_BYTE_COUNT	255437
+SHUFFLE	COPY_MAP_DATA	275994000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	906355
+SHUFFLE	COMPRESS_BYTE_COUNT	276109
+SHUFFLE	COPY_MAP_DATA	116547000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	906771
+SHUFFLE	COMPRESS_BYTE_COUNT	281167
+SHUFFLE	COPY_MAP_DATA	15801000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	835139
+SHUFFLE	COMPRESS_BYTE_COUNT	252024
+SHUFFLE	COPY_MAP_DATA	14527000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	870065
+SHUFFLE	COMPRESS_BYTE_COUNT	269965
+SHUFFLE	COPY_MAP_DATA	127175000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	873018
+SHUFFLE	COMPRESS_BYTE_COUNT	271338
+SHUFFLE	COPY_MAP_DATA	55031000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	945703
+SHUFFLE	COMPRESS_BYTE_COUNT	289755
+SHUFFLE	COPY_MAP_DATA	19542000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	949413
+SHUFFLE	COMPRESS_BYTE_COUNT	292154
+SHUFFLE	COPY_MAP_DATA	45614000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	857285
+SHUFFLE	COMPRESS_BYTE_COUNT	267449
+SHUFFLE	COPY_MAP_DATA	16588000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	900403
+SHUFFLE	COMPRESS_BYTE_COUNT	260360
+SHUFFLE	COPY_MAP_DATA	14578000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	834992
+SHUFFLE	COMPRESS_BYTE_COUNT	252658
+SHUFFLE	COPY_MAP_DATA	215472000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	947550
+SHUFFLE	COMPRESS_BYTE_COUNT	290302
+SHUFFLE	COPY_MAP_DATA	865593000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	878114
+SHUFFLE	COMPRESS_BYTE_COUNT	277928
+SHUFFLE	COPY_MAP_DATA	104755000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	856366
+SHUFFLE	COMPRESS_BYTE_COUNT	267289
+SHUFFLE	COPY_MAP_DATA	137051000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1041072
+SHUFFLE	COMPRESS_BYTE_COUNT	290130
+SHUFFLE	COPY_MAP_DATA	2182207000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	788548
+SHUFFLE	COMPRESS_BYTE_COUNT	241057
+SHUFFLE	COPY_MAP_DATA	244299000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	795987
+SHUFFLE	COMPRESS_BYTE_COUNT	244212
+SHUFFLE	COPY_MAP_DATA	12111530000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	838803
+SHUFFLE	COMPRESS_BYTE_COUNT	260771
+SHUFFLE	COPY_MAP_DATA	219560000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	833462
+SHUFFLE	COMPRESS_BYTE_COUNT	267097
+SHUFFLE	COPY_MAP_DATA	16332000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	839206
+SHUFFLE	COMPRESS_BYTE_COUNT	252527
+SHUFFLE	COPY_MAP_DATA	67343000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	981570
+SHUFFLE	COMPRESS_BYTE_COUNT	289839
+SHUFFLE	COPY_MAP_DATA	186036000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	825155
+SHUFFLE	COMPRESS_BYTE_COUNT	251353
+SHUFFLE	COPY_MAP_DATA	85362000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	870677
+SHUFFLE	COMPRESS_BYTE_COUNT	259189
+SHUFFLE	COPY_MAP_DATA	15485000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	839808
+SHUFFLE	COMPRESS_BYTE_COUNT	258026
+SHUFFLE	COPY_MAP_DATA	14367000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	956478
+SHUFFLE	COMPRESS_BYTE_COUNT	266198
+SHUFFLE	COPY_MAP_DATA	16997000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	842572
+SHUFFLE	COMPRESS_BYTE_COUNT	243930
+SHUFFLE	COPY_MAP_DATA	29112000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	808319
+SHUFFLE	COMPRESS_BYTE_COUNT	241494
+SHUFFLE	COPY_MAP_DATA	15149000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	924680
+SHUFFLE	COMPRESS_BYTE_COUNT	266288
+SHUFFLE	COPY_MAP_DATA	15658000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	780090
+SHUFFLE	COMPRESS_BYTE_COUNT	204044
+SHUFFLE	COPY_MAP_DATA	870507000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	908655
+SHUFFLE	COMPRESS_BYTE_COUNT	268083
+SHUFFLE	COPY_MAP_DATA	1791186000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	827604
+SHUFFLE	COMPRESS_BYTE_COUNT	238458
+SHUFFLE	COPY_MAP_DATA	617901000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1016553
+SHUFFLE	COMPRESS_BYTE_COUNT	293424
+SHUFFLE	COPY_MAP_DATA	19165000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	819375
+SHUFFLE	COMPRESS_BYTE_COUNT	250138
+SHUFFLE	COPY_MAP_DATA	16258000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	858056
+SHUFFLE	COMPRESS_BYTE_COUNT	246967
+SHUFFLE	COPY_MAP_DATA	15891000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	765397
+SHUFFLE	COMPRESS_BYTE_COUNT	235507
+SHUFFLE	COPY_MAP_DATA	14666000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	865882
+SHUFFLE	COMPRESS_BYTE_COUNT	257635
+SHUFFLE	COPY_MAP_DATA	241456000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	797991
+SHUFFLE	COMPRESS_BYTE_COUNT	247764
+SHUFFLE	COPY_MAP_DATA	6056255000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	808318
+SHUFFLE	COMPRESS_BYTE_COUNT	247234
+SHUFFLE	COPY_MAP_DATA	170586000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	810660
+SHUFFLE	COMPRESS_BYTE_COUNT	241609
+SHUFFLE	COPY_MAP_DATA	29211000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	782936
+SHUFFLE	COMPRESS_BYTE_COUNT	242455
+SHUFFLE	COPY_MAP_DATA	13700000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	754480
+SHUFFLE	COMPRESS_BYTE_COUNT	232182
+SHUFFLE	COPY_MAP_DATA	14249000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	796903
+SHUFFLE	COMPRESS_BYTE_COUNT	243195
+SHUFFLE	COPY_MAP_DATA	49250000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	854526
+SHUFFLE	COMPRESS_BYTE_COUNT	250756
+SHUFFLE	COPY_MAP_DATA	15202000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	835917
+SHUFFLE	COMPRESS_BYTE_COUNT	247719
+SHUFFLE	COPY_MAP_DATA	15309000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	807668
+SHUFFLE	COMPRESS_BYTE_COUNT	234561
+SHUFFLE	COPY_MAP_DATA	33163000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	925797
+SHUFFLE	COMPRESS_BYTE_COUNT	275389
+SHUFFLE	COPY_MAP_DATA	1307686000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	841213
+SHUFFLE	COMPRESS_BYTE_COUNT	261395
+SHUFFLE	COPY_MAP_DATA	455247000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	855234
+SHUFFLE	COMPRESS_BYTE_COUNT	261834
+SHUFFLE	COPY_MAP_DATA	45152000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	813425
+SHUFFLE	COMPRESS_BYTE_COUNT	244923
+SHUFFLE	COPY_MAP_DATA	425066000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	966321
+SHUFFLE	COMPRESS_BYTE_COUNT	254989
+SHUFFLE	COPY_MAP_DATA	484377000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	750228
+SHUFFLE	COMPRESS_BYTE_COUNT	221438
+SHUFFLE	COPY_MAP_DATA	621283000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	880829
+SHUFFLE	COMPRESS_BYTE_COUNT	256382
+SHUFFLE	COPY_MAP_DATA	903819000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1188332
+SHUFFLE	COMPRESS_BYTE_COUNT	367876
+SHUFFLE	COPY_MAP_DATA	951360000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	995498
+SHUFFLE	COMPRESS_BYTE_COUNT	272326
+SHUFFLE	COPY_MAP_DATA	20104000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	784886
+SHUFFLE	COMPRESS_BYTE_COUNT	237480
+SHUFFLE	COPY_MAP_DATA	195373000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	806403
+SHUFFLE	COMPRESS_BYTE_COUNT	240754
+SHUFFLE	COPY_MAP_DATA	15122000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	747860
+SHUFFLE	COMPRESS_BYTE_COUNT	224809
+SHUFFLE	COPY_MAP_DATA	472812000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	854314
+SHUFFLE	COMPRESS_BYTE_COUNT	261843
+SHUFFLE	COPY_MAP_DATA	26214000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	795805
+SHUFFLE	COMPRESS_BYTE_COUNT	239522
+SHUFFLE	COPY_MAP_DATA	14385000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	952704
+SHUFFLE	COMPRESS_BYTE_COUNT	279794
+SHUFFLE	COPY_MAP_DATA	347437000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	751515
+SHUFFLE	COMPRESS_BYTE_COUNT	232723
+SHUFFLE	COPY_MAP_DATA	730983000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	881491
+SHUFFLE	COMPRESS_BYTE_COUNT	261352
+SHUFFLE	COPY_MAP_DATA	395919000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	865573
+SHUFFLE	COMPRESS_BYTE_COUNT	239914
+SHUFFLE	COPY_MAP_DATA	1985373000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	757308
+SHUFFLE	COMPRESS_BYTE_COUNT	237669
+SHUFFLE	COPY_MAP_DATA	15535000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	758620
+SHUFFLE	COMPRESS_BYTE_COUNT	223623
+SHUFFLE	COPY_MAP_DATA	108988000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1047309
+SHUFFLE	COMPRESS_BYTE_COUNT	262629
+SHUFFLE	COPY_MAP_DATA	59638000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	756051
+SHUFFLE	COMPRESS_BYTE_COUNT	235458
+SHUFFLE	COPY_MAP_DATA	14969000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1010351
+SHUFFLE	COMPRESS_BYTE_COUNT	256726
+SHUFFLE	COPY_MAP_DATA	16417000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	751575
+SHUFFLE	COMPRESS_BYTE_COUNT	234066
+SHUFFLE	COPY_MAP_DATA	210270000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	832415
+SHUFFLE	COMPRESS_BYTE_COUNT	240880
+SHUFFLE	COPY_MAP_DATA	936378000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	776189
+SHUFFLE	COMPRESS_BYTE_COUNT	233656
+SHUFFLE	COPY_MAP_DATA	14693000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	859929
+SHUFFLE	COMPRESS_BYTE_COUNT	244927
+SHUFFLE	COPY_MAP_DATA	16368000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	753031
+SHUFFLE	COMPRESS_BYTE_COUNT	228699
+SHUFFLE	COPY_MAP_DATA	444729000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	762419
+SHUFFLE	COMPRESS_BYTE_COUNT	227484
+SHUFFLE	COPY_MAP_DATA	184119000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	704588
+SHUFFLE	COMPRESS_BYTE_COUNT	214381
+SHUFFLE	COPY_MAP_DATA	12724000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	785875
+SHUFFLE	COMPRESS_BYTE_COUNT	234915
+SHUFFLE	COPY_MAP_DATA	2315267000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	829263
+SHUFFLE	COMPRESS_BYTE_COUNT	248648
+SHUFFLE	COPY_MAP_DATA	38493000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	720404
+SHUFFLE	COMPRESS_BYTE_COUNT	219758
+SHUFFLE	COPY_MAP_DATA	14726000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	768221
+SHUFFLE	COMPRESS_BYTE_COUNT	228729
+SHUFFLE	COPY_MAP_DATA	85939000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	809310
+SHUFFLE	COMPRESS_BYTE_COUNT	238678
+SHUFFLE	COPY_MAP_DATA	278057000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	876146
+SHUFFLE	COMPRESS_BYTE_COUNT	259685
+SHUFFLE	COPY_MAP_DATA	17761000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1022181
+SHUFFLE	COMPRESS_BYTE_COUNT	332049
+SHUFFLE	COPY_MAP_DATA	814928000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	821519
+SHUFFLE	COMPRESS_BYTE_COUNT	254177
+SHUFFLE	COPY_MAP_DATA	20572000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	747250
+SHUFFLE	COMPRESS_BYTE_COUNT	228892
+SHUFFLE	COPY_MAP_DATA	552020000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1074043
+SHUFFLE	COMPRESS_BYTE_COUNT	279876
+SHUFFLE	COPY_MAP_DATA	27745000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	807288
+SHUFFLE	COMPRESS_BYTE_COUNT	252553
+SHUFFLE	COPY_MAP_DATA	34431000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	873086
+SHUFFLE	COMPRESS_BYTE_COUNT	260086
+SHUFFLE	COPY_MAP_DATA	79337000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	732104
+SHUFFLE	COMPRESS_BYTE_COUNT	228757
+SHUFFLE	COPY_MAP_DATA	13283000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	765672
+SHUFFLE	COMPRESS_BYTE_COUNT	228848
+SHUFFLE	COPY_MAP_DATA	14489000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	843077
+SHUFFLE	COMPRESS_BYTE_COUNT	252982
+SHUFFLE	COPY_MAP_DATA	17086000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	955205
+SHUFFLE	COMPRESS_BYTE_COUNT	274124
+SHUFFLE	COPY_MAP_DATA	17508000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	846076
+SHUFFLE	COMPRESS_BYTE_COUNT	250158
+SHUFFLE	COPY_MAP_DATA	528066000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1095215
+SHUFFLE	COMPRESS_BYTE_COUNT	279384
+SHUFFLE	COPY_MAP_DATA	100177000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	804118
+SHUFFLE	COMPRESS_BYTE_COUNT	240928
+SHUFFLE	COPY_MAP_DATA	18536000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	828164
+SHUFFLE	COMPRESS_BYTE_COUNT	241574
+SHUFFLE	COPY_MAP_DATA	14312000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	787398
+SHUFFLE	COMPRESS_BYTE_COUNT	232273
+SHUFFLE	COPY_MAP_DATA	463516000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1103482
+SHUFFLE	COMPRESS_BYTE_COUNT	278474
+SHUFFLE	COPY_MAP_DATA	18220000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1406789
+SHUFFLE	COMPRESS_BYTE_COUNT	302990
+SHUFFLE	COPY_MAP_DATA	20225000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	918743
+SHUFFLE	COMPRESS_BYTE_COUNT	265601
+SHUFFLE	COPY_MAP_DATA	112417000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	786455
+SHUFFLE	COMPRESS_BYTE_COUNT	234229
+SHUFFLE	COPY_MAP_DATA	19837000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	841646
+SHUFFLE	COMPRESS_BYTE_COUNT	240642
+SHUFFLE	COPY_MAP_DATA	25246000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	985456
+SHUFFLE	COMPRESS_BYTE_COUNT	311037
+SHUFFLE	COPY_MAP_DATA	17950000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	784694
+SHUFFLE	COMPRESS_BYTE_COUNT	218322
+SHUFFLE	COPY_MAP_DATA	616087000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	839938
+SHUFFLE	COMPRESS_BYTE_COUNT	254307
+SHUFFLE	COPY_MAP_DATA	15344000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	784459
+SHUFFLE	COMPRESS_BYTE_COUNT	229565
+SHUFFLE	COPY_MAP_DATA	13914000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	671750
+SHUFFLE	COMPRESS_BYTE_COUNT	168058
+SHUFFLE	COPY_MAP_DATA	10856000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	757602
+SHUFFLE	COMPRESS_BYTE_COUNT	234610
+SHUFFLE	COPY_MAP_DATA	145469000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	651382
+SHUFFLE	COMPRESS_BYTE_COUNT	199925
+SHUFFLE	COPY_MAP_DATA	13579000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	850409
+SHUFFLE	COMPRESS_BYTE_COUNT	246482
+SHUFFLE	COPY_MAP_DATA	13340000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	938127
+SHUFFLE	COMPRESS_BYTE_COUNT	285778
+SHUFFLE	COPY_MAP_DATA	17386000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	959551
+SHUFFLE	COMPRESS_BYTE_COUNT	271414
+SHUFFLE	COPY_MAP_DATA	16136000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	865804
+SHUFFLE	COMPRESS_BYTE_COUNT	249493
+SHUFFLE	COPY_MAP_DATA	19176000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	732104
+SHUFFLE	COMPRESS_BYTE_COUNT	228757
+SHUFFLE	COPY_MAP_DATA	21556000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1035038
+SHUFFLE	COMPRESS_BYTE_COUNT	260576
+SHUFFLE	COPY_MAP_DATA	15614000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	740909
+SHUFFLE	COMPRESS_BYTE_COUNT	220304
+SHUFFLE	COPY_MAP_DATA	54798000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	518646
+SHUFFLE	COMPRESS_BYTE_COUNT	116728
+SHUFFLE	COPY_MAP_DATA	8318000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	788950
+SHUFFLE	COMPRESS_BYTE_COUNT	230527
+SHUFFLE	COPY_MAP_DATA	13213000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	782427
+SHUFFLE	COMPRESS_BYTE_COUNT	236553
+SHUFFLE	COPY_MAP_DATA	14019000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	691050
+SHUFFLE	COMPRESS_BYTE_COUNT	203602
+SHUFFLE	COPY_MAP_DATA	12290000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	811110
+SHUFFLE	COMPRESS_BYTE_COUNT	246680
+SHUFFLE	COPY_MAP_DATA	15216000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1278897
+SHUFFLE	COMPRESS_BYTE_COUNT	285563
+SHUFFLE	COPY_MAP_DATA	35877000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	774879
+SHUFFLE	COMPRESS_BYTE_COUNT	230598
+SHUFFLE	COPY_MAP_DATA	14523000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	830475
+SHUFFLE	COMPRESS_BYTE_COUNT	279104
+SHUFFLE	COPY_MAP_DATA	15181000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	959188
+SHUFFLE	COMPRESS_BYTE_COUNT	307691
+SHUFFLE	COPY_MAP_DATA	76439000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	806103
+SHUFFLE	COMPRESS_BYTE_COUNT	250485
+SHUFFLE	COPY_MAP_DATA	14956000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	244241159000
+MERGE	READ_WRITE	243911435000
+MERGE	READ_WRITE_COUNT	2
+MERGE	COMBINE	0
+MERGE	WRITE	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	38896860000
+SORT	READ_WRITE	38775336000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	201847408
+REDUCE	SETUP	356000
+REDUCE	SETUP_MEM	201847408
+REDUCE	CLEANUP	40000
+REDUCE	CLEANUP_MEM	178324448
+REDUCE	TOTAL_RUN	115181813000
+REDUCE	READ	9015845000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	99403081000
+REDUCE	WRITE	36540334000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	73205515
+REDUCE	VALUE_BYTE_COUNT	66116309
+REDUCE	REDUCE_MEM	178324448
+REDUCE	WRITE	2390322000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	785397385000
@@ -0,0 +1,1333 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1783427
+SHUFFLE	COMPRESS_BYTE_COUNT	543062
+SHUFFLE	COPY_MAP_DATA	270163000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1827078
+SHUFFLE	COMPRESS_BYTE_COUNT	544491
+SHUFFLE	COPY_MAP_DATA	47091000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1799036
+SHUFFLE	COMPRESS_BYTE_COUNT	543416
+SHUFFLE	COPY_MAP_DATA	136419000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1883797
+SHUFFLE	COMPRESS_BYTE_COUNT	550532
+SHUFFLE	COPY_MAP_DATA	48841000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1616109
+SHUFFLE	COMPRESS_BYTE_COUNT	457419
+SHUFFLE	COPY_MAP_DATA	344472000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1861658
+SHUFFLE	COMPRESS_BYTE_COUNT	537772
+SHUFFLE	COPY_MAP_DATA	39453000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1888914
+SHUFFLE	COMPRESS_BYTE_COUNT	562119
+SHUFFLE	COPY_MAP_DATA	141355000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1899231
+SHUFFLE	COMPRESS_BYTE_COUNT	548619
+SHUFFLE	COPY_MAP_DATA	32043000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1829027
+SHUFFLE	COMPRESS_BYTE_COUNT	538982
+SHUFFLE	COPY_MAP_DATA	90104000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1745755
+SHUFFLE	COMPRESS_BYTE_COUNT	456638
+SHUFFLE	COPY_MAP_DATA	31802000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1828362
+SHUFFLE	COMPRESS_BYTE_COUNT	514592
+SHUFFLE	COPY_MAP_DATA	70577000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1823253
+SHUFFLE	COMPRESS_BYTE_COUNT	538396
+SHUFFLE	COPY_MAP_DATA	58362000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1894841
+SHUFFLE	COMPRESS_BYTE_COUNT	560276
+SHUFFLE	COPY_MAP_DATA	33116000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1892409
+SHUFFLE	COMPRESS_BYTE_COUNT	562900
+SHUFFLE	COPY_MAP_DATA	91348000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1947763
+SHUFFLE	COMPRESS_BYTE_COUNT	559640
+SHUFFLE	COPY_MAP_DATA	108435000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1970522
+SHUFFLE	COMPRESS_BYTE_COUNT	543961
+SHUFFLE	COPY_MAP_DATA	99919000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1863787
+SHUFFLE	COMPRESS_BYTE_COUNT	554942
+SHUFFLE	COPY_MAP_DATA	332123000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1708397
+SHUFFLE	COMPRESS_BYTE_COUNT	474649
+SHUFFLE	COPY_MAP_DATA	31720000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1826910
+SHUFFLE	COMPRESS_BYTE_COUNT	554560
+SHUFFLE	COPY_MAP_DATA	29150000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1828039
+SHUFFLE	COMPRESS_BYTE_COUNT	546135
+SHUFFLE	COPY_MAP_DATA	34838000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1853275
+SHUFFLE	COMPRESS_BYTE_COUNT	550102
+SHUFFLE	COPY_MAP_DATA	32488000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1779458
+SHUFFLE	COMPRESS_BYTE_COUNT	538525
+SHUFFLE	COPY_MAP_DATA	30120000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1903901
+SHUFFLE	COMPRESS_BYTE_COUNT	548485
+SHUFFLE	COPY_MAP_DATA	799701000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1925969
+SHUFFLE	COMPRESS_BYTE_COUNT	529726
+SHUFFLE	COPY_MAP_DATA	99530000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1943464
+SHUFFLE	COMPRESS_BYTE_COUNT	531605
+SHUFFLE	COPY_MAP_DATA	29696000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1891960
+SHUFFLE	COMPRESS_BYTE_COUNT	552584
+SHUFFLE	COPY_MAP_DATA	95095000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1919425
+SHUFFLE	COMPRESS_BYTE_COUNT	537119
+SHUFFLE	COPY_MAP_DATA	191486000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1913607
+SHUFFLE	COMPRESS_BYTE_COUNT	539443
+SHUFFLE	COPY_MAP_DATA	95583000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2029453
+SHUFFLE	COMPRESS_BYTE_COUNT	565270
+SHUFFLE	COPY_MAP_DATA	613625000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1941637
+SHUFFLE	COMPRESS_BYTE_COUNT	539014
+SHUFFLE	COPY_MAP_DATA	28322000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1741731
+SHUFFLE	COMPRESS_BYTE_COUNT	523057
+SHUFFLE	COPY_MAP_DATA	221774000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1760049
+SHUFFLE	COMPRESS_BYTE_COUNT	534260
+SHUFFLE	COPY_MAP_DATA	51104000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1639675
+SHUFFLE	COMPRESS_BYTE_COUNT	506182
+SHUFFLE	COPY_MAP_DATA	26542000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1852894
+SHUFFLE	COMPRESS_BYTE_COUNT	549559
+SHUFFLE	COPY_MAP_DATA	28095000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1515661
+SHUFFLE	COMPRESS_BYTE_COUNT	454668
+SHUFFLE	COPY_MAP_DATA	50048000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1790508
+SHUFFLE	COMPRESS_BYTE_COUNT	540591
+SHUFFLE	COPY_MAP_DATA	27855000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1882118
+SHUFFLE	COMPRESS_BYTE_COUNT	547890
+SHUFFLE	COPY_MAP_DATA	280077000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1802494
+SHUFFLE	COMPRESS_BYTE_COUNT	526783
+SHUFFLE	COPY_MAP_DATA	47830000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1736088
+SHUFFLE	COMPRESS_BYTE_COUNT	523596
+SHUFFLE	COPY_MAP_DATA	29559000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1784964
+SHUFFLE	COMPRESS_BYTE_COUNT	537128
+SHUFFLE	COPY_MAP_DATA	28131000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1790053
+SHUFFLE	COMPRESS_BYTE_COUNT	436422
+SHUFFLE	COPY_MAP_DATA	24670000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1871087
+SHUFFLE	COMPRESS_BYTE_COUNT	539423
+SHUFFLE	COPY_MAP_DATA	168865000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1909026
+SHUFFLE	COMPRESS_BYTE_COUNT	553913
+SHUFFLE	COPY_MAP_DATA	50326000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1673540
+SHUFFLE	COMPRESS_BYTE_COUNT	522966
+SHUFFLE	COPY_MAP_DATA	30477000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1790576
+SHUFFLE	COMPRESS_BYTE_COUNT	546395
+SHUFFLE	COPY_MAP_DATA	81441000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1639872
+SHUFFLE	COMPRESS_BYTE_COUNT	487775
+SHUFFLE	COPY_MAP_DATA	35722000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1569114
+SHUFFLE	COMPRESS_BYTE_COUNT	472795
+SHUFFLE	COPY_MAP_DATA	778005000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1809718
+SHUFFLE	COMPRESS_BYTE_COUNT	539295
+SHUFFLE	COPY_MAP_DATA	1752809000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1759165
+SHUFFLE	COMPRESS_BYTE_COUNT	538137
+SHUFFLE	COPY_MAP_DATA	294721000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1837388
+SHUFFLE	COMPRESS_BYTE_COUNT	538894
+SHUFFLE	COPY_MAP_DATA	531603000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1604297
+SHUFFLE	COMPRESS_BYTE_COUNT	472173
+SHUFFLE	COPY_MAP_DATA	54081000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1680970
+SHUFFLE	COMPRESS_BYTE_COUNT	491272
+SHUFFLE	COPY_MAP_DATA	102107000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1743524
+SHUFFLE	COMPRESS_BYTE_COUNT	515600
+SHUFFLE	COPY_MAP_DATA	745336000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1747272
+SHUFFLE	COMPRESS_BYTE_COUNT	514632
+SHUFFLE	COPY_MAP_DATA	169499000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1695435
+SHUFFLE	COMPRESS_BYTE_COUNT	497780
+SHUFFLE	COPY_MAP_DATA	27782000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1745582
+SHUFFLE	COMPRESS_BYTE_COUNT	534316
+SHUFFLE	COPY_MAP_DATA	28985000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1867732
+SHUFFLE	COMPRESS_BYTE_COUNT	539542
+SHUFFLE	COPY_MAP_DATA	167451000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1720833
+SHUFFLE	COMPRESS_BYTE_COUNT	515910
+SHUFFLE	COPY_MAP_DATA	108997000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1809362
+SHUFFLE	COMPRESS_BYTE_COUNT	536881
+SHUFFLE	COPY_MAP_DATA	52148000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1659181
+SHUFFLE	COMPRESS_BYTE_COUNT	511047
+SHUFFLE	COPY_MAP_DATA	70678000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1574113
+SHUFFLE	COMPRESS_BYTE_COUNT	474487
+SHUFFLE	COPY_MAP_DATA	26911000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1761605
+SHUFFLE	COMPRESS_BYTE_COUNT	495732
+SHUFFLE	COPY_MAP_DATA	37420000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1560588
+SHUFFLE	COMPRESS_BYTE_COUNT	463092
+SHUFFLE	COPY_MAP_DATA	45330000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1589459
+SHUFFLE	COMPRESS_BYTE_COUNT	473434
+SHUFFLE	COPY_MAP_DATA	27540000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2076523
+SHUFFLE	COMPRESS_BYTE_COUNT	484380
+SHUFFLE	COPY_MAP_DATA	28995000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1592221
+SHUFFLE	COMPRESS_BYTE_COUNT	471538
+SHUFFLE	COPY_MAP_DATA	26781000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1481761
+SHUFFLE	COMPRESS_BYTE_COUNT	445258
+SHUFFLE	COPY_MAP_DATA	524940000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1762760
+SHUFFLE	COMPRESS_BYTE_COUNT	520536
+SHUFFLE	COPY_MAP_DATA	29672000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1671719
+SHUFFLE	COMPRESS_BYTE_COUNT	470379
+SHUFFLE	COPY_MAP_DATA	194963000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1629215
+SHUFFLE	COMPRESS_BYTE_COUNT	475504
+SHUFFLE	COPY_MAP_DATA	170010000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1508750
+SHUFFLE	COMPRESS_BYTE_COUNT	445662
+SHUFFLE	COPY_MAP_DATA	136474000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1425295
+SHUFFLE	COMPRESS_BYTE_COUNT	427034
+SHUFFLE	COPY_MAP_DATA	44809000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1525918
+SHUFFLE	COMPRESS_BYTE_COUNT	459391
+SHUFFLE	COPY_MAP_DATA	23833000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1501283
+SHUFFLE	COMPRESS_BYTE_COUNT	452515
+SHUFFLE	COPY_MAP_DATA	48490000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1563772
+SHUFFLE	COMPRESS_BYTE_COUNT	451026
+SHUFFLE	COPY_MAP_DATA	165425000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1504199
+SHUFFLE	COMPRESS_BYTE_COUNT	459386
+SHUFFLE	COPY_MAP_DATA	25361000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1586970
+SHUFFLE	COMPRESS_BYTE_COUNT	464509
+SHUFFLE	COPY_MAP_DATA	1047796000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1533734
+SHUFFLE	COMPRESS_BYTE_COUNT	449877
+SHUFFLE	COPY_MAP_DATA	62650000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1898835
+SHUFFLE	COMPRESS_BYTE_COUNT	575681
+SHUFFLE	COPY_MAP_DATA	30388000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1585901
+SHUFFLE	COMPRESS_BYTE_COUNT	466254
+SHUFFLE	COPY_MAP_DATA	31761000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1770576
+SHUFFLE	COMPRESS_BYTE_COUNT	559284
+SHUFFLE	COPY_MAP_DATA	60567000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1746105
+SHUFFLE	COMPRESS_BYTE_COUNT	512762
+SHUFFLE	COPY_MAP_DATA	28158000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1540081
+SHUFFLE	COMPRESS_BYTE_COUNT	464285
+SHUFFLE	COPY_MAP_DATA	27102000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1607888
+SHUFFLE	COMPRESS_BYTE_COUNT	471979
+SHUFFLE	COPY_MAP_DATA	27163000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1516030
+SHUFFLE	COMPRESS_BYTE_COUNT	457686
+SHUFFLE	COPY_MAP_DATA	207913000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1712367
+SHUFFLE	COMPRESS_BYTE_COUNT	514698
+SHUFFLE	COPY_MAP_DATA	28380000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1730389
+SHUFFLE	COMPRESS_BYTE_COUNT	536332
+SHUFFLE	COPY_MAP_DATA	38286000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	815843
+SHUFFLE	COMPRESS_BYTE_COUNT	230911
+SHUFFLE	COPY_MAP_DATA	15528000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1405017
+SHUFFLE	COMPRESS_BYTE_COUNT	425789
+SHUFFLE	COPY_MAP_DATA	1325863000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1546899
+SHUFFLE	COMPRESS_BYTE_COUNT	445247
+SHUFFLE	COPY_MAP_DATA	313901000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1407331
+SHUFFLE	COMPRESS_BYTE_COUNT	423047
+SHUFFLE	COPY_MAP_DATA	66655000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	929914
+SHUFFLE	COMPRESS_BYTE_COUNT	256208
+SHUFFLE	COPY_MAP_DATA	181354000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	821343
+SHUFFLE	COMPRESS_BYTE_COUNT	241383
+SHUFFLE	COPY_MAP_DATA	277876000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	887056
+SHUFFLE	COMPRESS_BYTE_COUNT	261188
+SHUFFLE	COPY_MAP_DATA	35411000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1443846
+SHUFFLE	COMPRESS_BYTE_COUNT	445720
+SHUFFLE	COPY_MAP_DATA	23028000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1543833
+SHUFFLE	COMPRESS_BYTE_COUNT	450903
+SHUFFLE	COPY_MAP_DATA	131513000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	772195
+SHUFFLE	COMPRESS_BYTE_COUNT	232875
+SHUFFLE	COPY_MAP_DATA	14514000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	991730
+SHUFFLE	COMPRESS_BYTE_COUNT	289674
+SHUFFLE	COPY_MAP_DATA	33763000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	843916
+SHUFFLE	COMPRESS_BYTE_COUNT	241267
+SHUFFLE	COPY_MAP_DATA	951228848
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1408098
+SHUFFLE	COMPRESS_BYTE_COUNT	418968
+SHUFFLE	COPY_MAP_DATA	41839000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1509739
+SHUFFLE	COMPRESS_BYTE_COUNT	457545
+SHUFFLE	COPY_MAP_DATA	82552000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1597633
+SHUFFLE	COMPRESS_BYTE_COUNT	475250
+SHUFFLE	COPY_MAP_DATA	420191000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1495860
+SHUFFLE	COMPRESS_BYTE_COUNT	447032
+SHUFFLE	COPY_MAP_DATA	24930000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1672733
+SHUFFLE	COMPRESS_BYTE_COUNT	440887
+SHUFFLE	COPY_MAP_DATA	40052000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1523463
+SHUFFLE	COMPRESS_BYTE_COUNT	443999
+SHUFFLE	COPY_MAP_DATA	380058000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	982506
+SHUFFLE	COMPRESS_BYTE_COUNT	284767
+SHUFFLE	COPY_MAP_DATA	20889000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1523733
+SHUFFLE	COMPRESS_BYTE_COUNT	438551
+SHUFFLE	COPY_MAP_DATA	56352000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1682401
+SHUFFLE	COMPRESS_BYTE_COUNT	524873
+SHUFFLE	COPY_MAP_DATA	317211000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1755128
+SHUFFLE	COMPRESS_BYTE_COUNT	509611
+SHUFFLE	COPY_MAP_DATA	38105000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	922739
+SHUFFLE	COMPRESS_BYTE_COUNT	278736
+SHUFFLE	COPY_MAP_DATA	37238000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1010411
+SHUFFLE	COMPRESS_BYTE_COUNT	286079
+SHUFFLE	COPY_MAP_DATA	116473000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	915560
+SHUFFLE	COMPRESS_BYTE_COUNT	274376
+SHUFFLE	COPY_MAP_DATA	20197000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	927697
+SHUFFLE	COMPRESS_BYTE_COUNT	278318
+SHUFFLE	COPY_MAP_DATA	16289000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1913610
+SHUFFLE	COMPRESS_BYTE_COUNT	358893
+SHUFFLE	COPY_MAP_DATA	22391000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1518050
+SHUFFLE	COMPRESS_BYTE_COUNT	457481
+SHUFFLE	COPY_MAP_DATA	23564000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1601415
+SHUFFLE	COMPRESS_BYTE_COUNT	463257
+SHUFFLE	COPY_MAP_DATA	22941000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1547479
+SHUFFLE	COMPRESS_BYTE_COUNT	483206
+SHUFFLE	COPY_MAP_DATA	25297000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1503515
+SHUFFLE	COMPRESS_BYTE_COUNT	450209
+SHUFFLE	COPY_MAP_DATA	102867000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	959994
+SHUFFLE	COMPRESS_BYTE_COUNT	284159
+SHUFFLE	COPY_MAP_DATA	73877000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1797907
+SHUFFLE	COMPRESS_BYTE_COUNT	520215
+SHUFFLE	COPY_MAP_DATA	48173000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	944988
+SHUFFLE	COMPRESS_BYTE_COUNT	284275
+SHUFFLE	COPY_MAP_DATA	15922000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1669393
+SHUFFLE	COMPRESS_BYTE_COUNT	481804
+SHUFFLE	COPY_MAP_DATA	46411000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	979754
+SHUFFLE	COMPRESS_BYTE_COUNT	292827
+SHUFFLE	COPY_MAP_DATA	56412000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	895128
+SHUFFLE	COMPRESS_BYTE_COUNT	284482
+SHUFFLE	COPY_MAP_DATA	911726000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	941317
+SHUFFLE	COMPRESS_BYTE_COUNT	280311
+SHUFFLE	COPY_MAP_DATA	33979000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	928609
+SHUFFLE	COMPRESS_BYTE_COUNT	284285
+SHUFFLE	COPY_MAP_DATA	81631000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	905625
+SHUFFLE	COMPRESS_BYTE_COUNT	260853
+SHUFFLE	COPY_MAP_DATA	15361000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	960357
+SHUFFLE	COMPRESS_BYTE_COUNT	295392
+SHUFFLE	COPY_MAP_DATA	77863000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	942825
+SHUFFLE	COMPRESS_BYTE_COUNT	284623
+SHUFFLE	COPY_MAP_DATA	239856000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	932432
+SHUFFLE	COMPRESS_BYTE_COUNT	280872
+SHUFFLE	COPY_MAP_DATA	15360000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	956408
+SHUFFLE	COMPRESS_BYTE_COUNT	289006
+SHUFFLE	COPY_MAP_DATA	85022000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	944381
+SHUFFLE	COMPRESS_BYTE_COUNT	289476
+SHUFFLE	COPY_MAP_DATA	27807000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	959133
+SHUFFLE	COMPRESS_BYTE_COUNT	285092
+SHUFFLE	COPY_MAP_DATA	130844000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	955190
+SHUFFLE	COMPRESS_BYTE_COUNT	293825
+SHUFFLE	COPY_MAP_DATA	18016000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1023893
+SHUFFLE	COMPRESS_BYTE_COUNT	286318
+SHUFFLE	COPY_MAP_DATA	3957394000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	945851
+SHUFFLE	COMPRESS_BYTE_COUNT	287147
+SHUFFLE	COPY_MAP_DATA	36503000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	953615
+SHUFFLE	COMPRESS_BYTE_COUNT	286514
+SHUFFLE	COPY_MAP_DATA	87291000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	946631
+SHUFFLE	COMPRESS_BYTE_COUNT	284992
+SHUFFLE	COPY_MAP_DATA	16086000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1002777
+SHUFFLE	COMPRESS_BYTE_COUNT	304501
+SHUFFLE	COPY_MAP_DATA	19364000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	928127
+SHUFFLE	COMPRESS_BYTE_COUNT	277955
+SHUFFLE	COPY_MAP_DATA	17967000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	912298
+SHUFFLE	COMPRESS_BYTE_COUNT	285886
+SHUFFLE	COPY_MAP_DATA	17456000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1049701
+SHUFFLE	COMPRESS_BYTE_COUNT	299824
+SHUFFLE	COPY_MAP_DATA	1254310000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	946111
+SHUFFLE	COMPRESS_BYTE_COUNT	293056
+SHUFFLE	COPY_MAP_DATA	847938000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	934486
+SHUFFLE	COMPRESS_BYTE_COUNT	290480
+SHUFFLE	COPY_MAP_DATA	189190000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	952009
+SHUFFLE	COMPRESS_BYTE_COUNT	287268
+SHUFFLE	COPY_MAP_DATA	102066000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	910724
+SHUFFLE	COMPRESS_BYTE_COUNT	285642
+SHUFFLE	COPY_MAP_DATA	28071000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	917317
+SHUFFLE	COMPRESS_BYTE_COUNT	286428
+SHUFFLE	COPY_MAP_DATA	618609000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	883154
+SHUFFLE	COMPRESS_BYTE_COUNT	271880
+SHUFFLE	COPY_MAP_DATA	46895000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	929649
+SHUFFLE	COMPRESS_BYTE_COUNT	286132
+SHUFFLE	COPY_MAP_DATA	37872000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	954652
+SHUFFLE	COMPRESS_BYTE_COUNT	293327
+SHUFFLE	COPY_MAP_DATA	15752000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	923111
+SHUFFLE	COMPRESS_BYTE_COUNT	286746
+SHUFFLE	COPY_MAP_DATA	16053000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	899380
+SHUFFLE	COMPRESS_BYTE_COUNT	276374
+SHUFFLE	COPY_MAP_DATA	34653000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	936907
+SHUFFLE	COMPRESS_BYTE_COUNT	298200
+SHUFFLE	COPY_MAP_DATA	80959000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	929228
+SHUFFLE	COMPRESS_BYTE_COUNT	283506
+SHUFFLE	COPY_MAP_DATA	46820000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	915443
+SHUFFLE	COMPRESS_BYTE_COUNT	288846
+SHUFFLE	COPY_MAP_DATA	383993000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	935576
+SHUFFLE	COMPRESS_BYTE_COUNT	293623
+SHUFFLE	COPY_MAP_DATA	191129000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	894945
+SHUFFLE	COMPRESS_BYTE_COUNT	282111
+SHUFFLE	COPY_MAP_DATA	20764000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	958295
+SHUFFLE	COMPRESS_BYTE_COUNT	263463
+SHUFFLE	COPY_MAP_DATA	38755000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	897698
+SHUFFLE	COMPRESS_BYTE_COUNT	285077
+SHUFFLE	COPY_MAP_DATA	16205000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1002149
+SHUFFLE	COMPRESS_BYTE_COUNT	278210
+SHUFFLE	COPY_MAP_DATA	36847000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	862940
+SHUFFLE	COMPRESS_BYTE_COUNT	278429
+SHUFFLE	COPY_MAP_DATA	52058000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	881492
+SHUFFLE	COMPRESS_BYTE_COUNT	277739
+SHUFFLE	COPY_MAP_DATA	46251000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	885283
+SHUFFLE	COMPRESS_BYTE_COUNT	276086
+SHUFFLE	COPY_MAP_DATA	17033000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	927512
+SHUFFLE	COMPRESS_BYTE_COUNT	282836
+SHUFFLE	COPY_MAP_DATA	52581000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	964647
+SHUFFLE	COMPRESS_BYTE_COUNT	290725
+SHUFFLE	COPY_MAP_DATA	91521000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	937759
+SHUFFLE	COMPRESS_BYTE_COUNT	294555
+SHUFFLE	COPY_MAP_DATA	35132000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	923882
+SHUFFLE	COMPRESS_BYTE_COUNT	287061
+SHUFFLE	COPY_MAP_DATA	76783000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	883595
+SHUFFLE	COMPRESS_BYTE_COUNT	276469
+SHUFFLE	COPY_MAP_DATA	106315000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	976391
+SHUFFLE	COMPRESS_BYTE_COUNT	290929
+SHUFFLE	COPY_MAP_DATA	17846000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	955579
+SHUFFLE	COMPRESS_BYTE_COUNT	288432
+SHUFFLE	COPY_MAP_DATA	157314000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	867642
+SHUFFLE	COMPRESS_BYTE_COUNT	276360
+SHUFFLE	COPY_MAP_DATA	37958000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	844155
+SHUFFLE	COMPRESS_BYTE_COUNT	268278
+SHUFFLE	COPY_MAP_DATA	16093000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	929014
+SHUFFLE	COMPRESS_BYTE_COUNT	286673
+SHUFFLE	COPY_MAP_DATA	28780000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	959009
+SHUFFLE	COMPRESS_BYTE_COUNT	284309
+SHUFFLE	COPY_MAP_DATA	16856000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	951491
+SHUFFLE	COMPRESS_BYTE_COUNT	293755
+SHUFFLE	COPY_MAP_DATA	44715000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	864821
+SHUFFLE	COMPRESS_BYTE_COUNT	273932
+SHUFFLE	COPY_MAP_DATA	15992000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	931059
+SHUFFLE	COMPRESS_BYTE_COUNT	292555
+SHUFFLE	COPY_MAP_DATA	49254000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	926210
+SHUFFLE	COMPRESS_BYTE_COUNT	292714
+SHUFFLE	COPY_MAP_DATA	112562000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	914639
+SHUFFLE	COMPRESS_BYTE_COUNT	286764
+SHUFFLE	COPY_MAP_DATA	20538000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	964140
+SHUFFLE	COMPRESS_BYTE_COUNT	287455
+SHUFFLE	COPY_MAP_DATA	32297000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	891336
+SHUFFLE	COMPRESS_BYTE_COUNT	284791
+SHUFFLE	COPY_MAP_DATA	60311000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	901408
+SHUFFLE	COMPRESS_BYTE_COUNT	282901
+SHUFFLE	COPY_MAP_DATA	17463000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	864222
+SHUFFLE	COMPRESS_BYTE_COUNT	275807
+SHUFFLE	COPY_MAP_DATA	20303000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	867701
+SHUFFLE	COMPRESS_BYTE_COUNT	276535
+SHUFFLE	COPY_MAP_DATA	17953000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	845357
+SHUFFLE	COMPRESS_BYTE_COUNT	268138
+SHUFFLE	COPY_MAP_DATA	99324000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	924921
+SHUFFLE	COMPRESS_BYTE_COUNT	285041
+SHUFFLE	COPY_MAP_DATA	16752000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	856450
+SHUFFLE	COMPRESS_BYTE_COUNT	268692
+SHUFFLE	COPY_MAP_DATA	16118000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	928228
+SHUFFLE	COMPRESS_BYTE_COUNT	283075
+SHUFFLE	COPY_MAP_DATA	128274000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	946168
+SHUFFLE	COMPRESS_BYTE_COUNT	276101
+SHUFFLE	COPY_MAP_DATA	39392000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	873423
+SHUFFLE	COMPRESS_BYTE_COUNT	281909
+SHUFFLE	COPY_MAP_DATA	29821000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	889170
+SHUFFLE	COMPRESS_BYTE_COUNT	285064
+SHUFFLE	COPY_MAP_DATA	130380000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	922868
+SHUFFLE	COMPRESS_BYTE_COUNT	287272
+SHUFFLE	COPY_MAP_DATA	15418000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	833762
+SHUFFLE	COMPRESS_BYTE_COUNT	269460
+SHUFFLE	COPY_MAP_DATA	15391000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	868385
+SHUFFLE	COMPRESS_BYTE_COUNT	271051
+SHUFFLE	COPY_MAP_DATA	108146000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	963967
+SHUFFLE	COMPRESS_BYTE_COUNT	275603
+SHUFFLE	COPY_MAP_DATA	15712000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	915896
+SHUFFLE	COMPRESS_BYTE_COUNT	286402
+SHUFFLE	COPY_MAP_DATA	52755000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	889787
+SHUFFLE	COMPRESS_BYTE_COUNT	283608
+SHUFFLE	COPY_MAP_DATA	329095000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	863195
+SHUFFLE	COMPRESS_BYTE_COUNT	276081
+SHUFFLE	COPY_MAP_DATA	78713000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	858642
+SHUFFLE	COMPRESS_BYTE_COUNT	263740
+SHUFFLE	COPY_MAP_DATA	820988000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	853907
+SHUFFLE	COMPRESS_BYTE_COUNT	265483
+SHUFFLE	COPY_MAP_DATA	21618000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	877239
+SHUFFLE	COMPRESS_BYTE_COUNT	276607
+SHUFFLE	COPY_MAP_DATA	102082000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	852450
+SHUFFLE	COMPRESS_BYTE_COUNT	265801
+SHUFFLE	COPY_MAP_DATA	14971000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	827464
+SHUFFLE	COMPRESS_BYTE_COUNT	248380
+SHUFFLE	COPY_MAP_DATA	161751000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	905081
+SHUFFLE	COMPRESS_BYTE_COUNT	280570
+SHUFFLE	COPY_MAP_DATA	73991000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	865692
+SHUFFLE	COMPRESS_BYTE_COUNT	273154
+SHUFFLE	COPY_MAP_DATA	41969000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	809812
+SHUFFLE	COMPRESS_BYTE_COUNT	248138
+SHUFFLE	COPY_MAP_DATA	14726000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	858851
+SHUFFLE	COMPRESS_BYTE_COUNT	266897
+SHUFFLE	COPY_MAP_DATA	225977000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	939301
+SHUFFLE	COMPRESS_BYTE_COUNT	268752
+SHUFFLE	COPY_MAP_DATA	514371000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	805915
+SHUFFLE	COMPRESS_BYTE_COUNT	256076
+SHUFFLE	COPY_MAP_DATA	84488000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	915728
+SHUFFLE	COMPRESS_BYTE_COUNT	288774
+SHUFFLE	COPY_MAP_DATA	33038000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	855797
+SHUFFLE	COMPRESS_BYTE_COUNT	270999
+SHUFFLE	COPY_MAP_DATA	54585000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	907487
+SHUFFLE	COMPRESS_BYTE_COUNT	284763
+SHUFFLE	COPY_MAP_DATA	24516000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	842193
+SHUFFLE	COMPRESS_BYTE_COUNT	254350
+SHUFFLE	COPY_MAP_DATA	84455000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	803409
+SHUFFLE	COMPRESS_BYTE_COUNT	249365
+SHUFFLE	COPY_MAP_DATA	91072000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	769192
+SHUFFLE	COMPRESS_BYTE_COUNT	239617
+SHUFFLE	COPY_MAP_DATA	15137000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	813826
+SHUFFLE	COMPRESS_BYTE_COUNT	262547
+SHUFFLE	COPY_MAP_DATA	42320000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	838337
+SHUFFLE	COMPRESS_BYTE_COUNT	253627
+SHUFFLE	COPY_MAP_DATA	14582000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	781555
+SHUFFLE	COMPRESS_BYTE_COUNT	241948
+SHUFFLE	COPY_MAP_DATA	52867000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	960247
+SHUFFLE	COMPRESS_BYTE_COUNT	275423
+SHUFFLE	COPY_MAP_DATA	179766000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	807850
+SHUFFLE	COMPRESS_BYTE_COUNT	264012
+SHUFFLE	COPY_MAP_DATA	15772000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	870750
+SHUFFLE	COMPRESS_BYTE_COUNT	261554
+SHUFFLE	COPY_MAP_DATA	15884000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	825838
+SHUFFLE	COMPRESS_BYTE_COUNT	256736
+SHUFFLE	COPY_MAP_DATA	15421000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	820269
+SHUFFLE	COMPRESS_BYTE_COUNT	250347
+SHUFFLE	COPY_MAP_DATA	112849000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	924918
+SHUFFLE	COMPRESS_BYTE_COUNT	281212
+SHUFFLE	COPY_MAP_DATA	31979000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	812043
+SHUFFLE	COMPRESS_BYTE_COUNT	244610
+SHUFFLE	COPY_MAP_DATA	15498000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	764379
+SHUFFLE	COMPRESS_BYTE_COUNT	239552
+SHUFFLE	COPY_MAP_DATA	32187000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	818608
+SHUFFLE	COMPRESS_BYTE_COUNT	253256
+SHUFFLE	COPY_MAP_DATA	53235000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	797175
+SHUFFLE	COMPRESS_BYTE_COUNT	240426
+SHUFFLE	COPY_MAP_DATA	159593000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	836035
+SHUFFLE	COMPRESS_BYTE_COUNT	257065
+SHUFFLE	COPY_MAP_DATA	14149000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	941679
+SHUFFLE	COMPRESS_BYTE_COUNT	216338
+SHUFFLE	COPY_MAP_DATA	92976000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	853508
+SHUFFLE	COMPRESS_BYTE_COUNT	260758
+SHUFFLE	COPY_MAP_DATA	38195000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	714080
+SHUFFLE	COMPRESS_BYTE_COUNT	229795
+SHUFFLE	COPY_MAP_DATA	28140000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	904120
+SHUFFLE	COMPRESS_BYTE_COUNT	275719
+SHUFFLE	COPY_MAP_DATA	37162000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	759841
+SHUFFLE	COMPRESS_BYTE_COUNT	242238
+SHUFFLE	COPY_MAP_DATA	15561000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	806259
+SHUFFLE	COMPRESS_BYTE_COUNT	240698
+SHUFFLE	COPY_MAP_DATA	13597000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	795048
+SHUFFLE	COMPRESS_BYTE_COUNT	248059
+SHUFFLE	COPY_MAP_DATA	302710000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	740476
+SHUFFLE	COMPRESS_BYTE_COUNT	230122
+SHUFFLE	COPY_MAP_DATA	65139000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	816119
+SHUFFLE	COMPRESS_BYTE_COUNT	247447
+SHUFFLE	COPY_MAP_DATA	400744000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	744259
+SHUFFLE	COMPRESS_BYTE_COUNT	229479
+SHUFFLE	COPY_MAP_DATA	104749000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	760790
+SHUFFLE	COMPRESS_BYTE_COUNT	234412
+SHUFFLE	COPY_MAP_DATA	32468000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	800813
+SHUFFLE	COMPRESS_BYTE_COUNT	246728
+SHUFFLE	COPY_MAP_DATA	14890000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	904588
+SHUFFLE	COMPRESS_BYTE_COUNT	243038
+SHUFFLE	COPY_MAP_DATA	13937000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	772611
+SHUFFLE	COMPRESS_BYTE_COUNT	245768
+SHUFFLE	COPY_MAP_DATA	14252000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	800890
+SHUFFLE	COMPRESS_BYTE_COUNT	239562
+SHUFFLE	COPY_MAP_DATA	30484000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	724719
+SHUFFLE	COMPRESS_BYTE_COUNT	228454
+SHUFFLE	COPY_MAP_DATA	32459000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	769124
+SHUFFLE	COMPRESS_BYTE_COUNT	241085
+SHUFFLE	COPY_MAP_DATA	53973000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	751192
+SHUFFLE	COMPRESS_BYTE_COUNT	233122
+SHUFFLE	COPY_MAP_DATA	164388000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	772914
+SHUFFLE	COMPRESS_BYTE_COUNT	238638
+SHUFFLE	COPY_MAP_DATA	47721000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	934811
+SHUFFLE	COMPRESS_BYTE_COUNT	275916
+SHUFFLE	COPY_MAP_DATA	16188000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	815547
+SHUFFLE	COMPRESS_BYTE_COUNT	256405
+SHUFFLE	COPY_MAP_DATA	15499000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	811296
+SHUFFLE	COMPRESS_BYTE_COUNT	254652
+SHUFFLE	COPY_MAP_DATA	821846000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	782219
+SHUFFLE	COMPRESS_BYTE_COUNT	224426
+SHUFFLE	COPY_MAP_DATA	15985000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	799520
+SHUFFLE	COMPRESS_BYTE_COUNT	245010
+SHUFFLE	COPY_MAP_DATA	114733000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1154578
+SHUFFLE	COMPRESS_BYTE_COUNT	363229
+SHUFFLE	COPY_MAP_DATA	81270000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	741287
+SHUFFLE	COMPRESS_BYTE_COUNT	231714
+SHUFFLE	COPY_MAP_DATA	44185000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	756584
+SHUFFLE	COMPRESS_BYTE_COUNT	227642
+SHUFFLE	COPY_MAP_DATA	80546000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	710848
+SHUFFLE	COMPRESS_BYTE_COUNT	219834
+SHUFFLE	COPY_MAP_DATA	12636000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	913750
+SHUFFLE	COMPRESS_BYTE_COUNT	266536
+SHUFFLE	COPY_MAP_DATA	127171000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	733081
+SHUFFLE	COMPRESS_BYTE_COUNT	231187
+SHUFFLE	COPY_MAP_DATA	61749000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	728371
+SHUFFLE	COMPRESS_BYTE_COUNT	230032
+SHUFFLE	COPY_MAP_DATA	41255000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	923270
+SHUFFLE	COMPRESS_BYTE_COUNT	256753
+SHUFFLE	COPY_MAP_DATA	15891000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	846094
+SHUFFLE	COMPRESS_BYTE_COUNT	255535
+SHUFFLE	COPY_MAP_DATA	15577000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	757560
+SHUFFLE	COMPRESS_BYTE_COUNT	229709
+SHUFFLE	COPY_MAP_DATA	21893000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	904635
+SHUFFLE	COMPRESS_BYTE_COUNT	274674
+SHUFFLE	COPY_MAP_DATA	3201383000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	786383
+SHUFFLE	COMPRESS_BYTE_COUNT	237042
+SHUFFLE	COPY_MAP_DATA	18044000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	758568
+SHUFFLE	COMPRESS_BYTE_COUNT	235373
+SHUFFLE	COPY_MAP_DATA	34323000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	753309
+SHUFFLE	COMPRESS_BYTE_COUNT	228547
+SHUFFLE	COPY_MAP_DATA	1398309000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	841942
+SHUFFLE	COMPRESS_BYTE_COUNT	257242
+SHUFFLE	COPY_MAP_DATA	33515000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	750323
+SHUFFLE	COMPRESS_BYTE_COUNT	222098
+SHUFFLE	COPY_MAP_DATA	13152000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	754873
+SHUFFLE	COMPRESS_BYTE_COUNT	237355
+SHUFFLE	COPY_MAP_DATA	91904000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	715219
+SHUFFLE	COMPRESS_BYTE_COUNT	226557
+SHUFFLE	COPY_MAP_DATA	789850000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	783123
+SHUFFLE	COMPRESS_BYTE_COUNT	238463
+SHUFFLE	COPY_MAP_DATA	252272000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	778800
+SHUFFLE	COMPRESS_BYTE_COUNT	238052
+SHUFFLE	COPY_MAP_DATA	14240000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	696485
+SHUFFLE	COMPRESS_BYTE_COUNT	217935
+SHUFFLE	COPY_MAP_DATA	15145000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	736591
+SHUFFLE	COMPRESS_BYTE_COUNT	225089
+SHUFFLE	COPY_MAP_DATA	14648000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	700578
+SHUFFLE	COMPRESS_BYTE_COUNT	213791
+SHUFFLE	COPY_MAP_DATA	14002000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1010737
+SHUFFLE	COMPRESS_BYTE_COUNT	332302
+SHUFFLE	COPY_MAP_DATA	25250000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	754936
+SHUFFLE	COMPRESS_BYTE_COUNT	227959
+SHUFFLE	COPY_MAP_DATA	19276000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	725328
+SHUFFLE	COMPRESS_BYTE_COUNT	227536
+SHUFFLE	COPY_MAP_DATA	14111000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	781687
+SHUFFLE	COMPRESS_BYTE_COUNT	246106
+SHUFFLE	COPY_MAP_DATA	77945000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	774847
+SHUFFLE	COMPRESS_BYTE_COUNT	240820
+SHUFFLE	COPY_MAP_DATA	14432000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	814755
+SHUFFLE	COMPRESS_BYTE_COUNT	251864
+SHUFFLE	COPY_MAP_DATA	12730000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	801382
+SHUFFLE	COMPRESS_BYTE_COUNT	252127
+SHUFFLE	COPY_MAP_DATA	34350000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	854067
+SHUFFLE	COMPRESS_BYTE_COUNT	252336
+SHUFFLE	COPY_MAP_DATA	112931000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	702819
+SHUFFLE	COMPRESS_BYTE_COUNT	220415
+SHUFFLE	COPY_MAP_DATA	176602000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1171937
+SHUFFLE	COMPRESS_BYTE_COUNT	259998
+SHUFFLE	COPY_MAP_DATA	45267000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	833043
+SHUFFLE	COMPRESS_BYTE_COUNT	246908
+SHUFFLE	COPY_MAP_DATA	14622000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	734947
+SHUFFLE	COMPRESS_BYTE_COUNT	228741
+SHUFFLE	COPY_MAP_DATA	33287000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	710849
+SHUFFLE	COMPRESS_BYTE_COUNT	223682
+SHUFFLE	COPY_MAP_DATA	18897000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	768128
+SHUFFLE	COMPRESS_BYTE_COUNT	237168
+SHUFFLE	COPY_MAP_DATA	982535000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	727734
+SHUFFLE	COMPRESS_BYTE_COUNT	226241
+SHUFFLE	COPY_MAP_DATA	84151000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	872755
+SHUFFLE	COMPRESS_BYTE_COUNT	239080
+SHUFFLE	COPY_MAP_DATA	58775000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	788383
+SHUFFLE	COMPRESS_BYTE_COUNT	235075
+SHUFFLE	COPY_MAP_DATA	151535000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	876638
+SHUFFLE	COMPRESS_BYTE_COUNT	264201
+SHUFFLE	COPY_MAP_DATA	16395000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	915137
+SHUFFLE	COMPRESS_BYTE_COUNT	259558
+SHUFFLE	COPY_MAP_DATA	15602000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	781516
+SHUFFLE	COMPRESS_BYTE_COUNT	244073
+SHUFFLE	COPY_MAP_DATA	33846000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	815496
+SHUFFLE	COMPRESS_BYTE_COUNT	242829
+SHUFFLE	COPY_MAP_DATA	40225000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	782830
+SHUFFLE	COMPRESS_BYTE_COUNT	233843
+SHUFFLE	COPY_MAP_DATA	100037000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	975778
+SHUFFLE	COMPRESS_BYTE_COUNT	304644
+SHUFFLE	COPY_MAP_DATA	29770000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	850495
+SHUFFLE	COMPRESS_BYTE_COUNT	252791
+SHUFFLE	COPY_MAP_DATA	25996000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	774929
+SHUFFLE	COMPRESS_BYTE_COUNT	234341
+SHUFFLE	COPY_MAP_DATA	5137091000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	712709
+SHUFFLE	COMPRESS_BYTE_COUNT	224986
+SHUFFLE	COPY_MAP_DATA	77470000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	762003
+SHUFFLE	COMPRESS_BYTE_COUNT	229817
+SHUFFLE	COPY_MAP_DATA	15671000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	690939
+SHUFFLE	COMPRESS_BYTE_COUNT	211371
+SHUFFLE	COPY_MAP_DATA	35088000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	799980
+SHUFFLE	COMPRESS_BYTE_COUNT	216478
+SHUFFLE	COPY_MAP_DATA	13287000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	797032
+SHUFFLE	COMPRESS_BYTE_COUNT	248142
+SHUFFLE	COPY_MAP_DATA	14370000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	831760
+SHUFFLE	COMPRESS_BYTE_COUNT	180935
+SHUFFLE	COPY_MAP_DATA	12181000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	710849
+SHUFFLE	COMPRESS_BYTE_COUNT	223682
+SHUFFLE	COPY_MAP_DATA	303329000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	706366
+SHUFFLE	COMPRESS_BYTE_COUNT	220358
+SHUFFLE	COPY_MAP_DATA	13856000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	708901
+SHUFFLE	COMPRESS_BYTE_COUNT	230426
+SHUFFLE	COPY_MAP_DATA	24253000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	750778
+SHUFFLE	COMPRESS_BYTE_COUNT	232206
+SHUFFLE	COPY_MAP_DATA	13587000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	813034
+SHUFFLE	COMPRESS_BYTE_COUNT	242895
+SHUFFLE	COPY_MAP_DATA	31821000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	811686
+SHUFFLE	COMPRESS_BYTE_COUNT	251409
+SHUFFLE	COPY_MAP_DATA	15994000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	943842
+SHUFFLE	COMPRESS_BYTE_COUNT	282100
+SHUFFLE	COPY_MAP_DATA	14879000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	761462
+SHUFFLE	COMPRESS_BYTE_COUNT	226740
+SHUFFLE	COPY_MAP_DATA	15416000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	740642
+SHUFFLE	COMPRESS_BYTE_COUNT	219252
+SHUFFLE	COPY_MAP_DATA	19778000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	971933
+SHUFFLE	COMPRESS_BYTE_COUNT	152118
+SHUFFLE	COPY_MAP_DATA	12182000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	748411
+SHUFFLE	COMPRESS_BYTE_COUNT	223214
+SHUFFLE	COPY_MAP_DATA	13081000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	728339
+SHUFFLE	COMPRESS_BYTE_COUNT	225799
+SHUFFLE	COPY_MAP_DATA	12939000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	792757
+SHUFFLE	COMPRESS_BYTE_COUNT	233762
+SHUFFLE	COPY_MAP_DATA	13348000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	625270
+SHUFFLE	COMPRESS_BYTE_COUNT	198836
+SHUFFLE	COPY_MAP_DATA	27017000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	840461
+SHUFFLE	COMPRESS_BYTE_COUNT	282807
+SHUFFLE	COPY_MAP_DATA	16283000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	755106
+SHUFFLE	COMPRESS_BYTE_COUNT	238847
+SHUFFLE	COPY_MAP_DATA	14380000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	966012
+SHUFFLE	COMPRESS_BYTE_COUNT	312338
+SHUFFLE	COPY_MAP_DATA	17441000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	773412
+SHUFFLE	COMPRESS_BYTE_COUNT	231585
+SHUFFLE	COPY_MAP_DATA	13340000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	721643
+SHUFFLE	COMPRESS_BYTE_COUNT	236898
+SHUFFLE	COPY_MAP_DATA	376076000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	216548967152
+MERGE	READ_WRITE	216306500152
+MERGE	READ_WRITE_COUNT	2
+MERGE	COMBINE	0
+MERGE	WRITE	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	32886851000
+SORT	READ_WRITE	32701648000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	127791952
+REDUCE	SETUP	308000
+REDUCE	SETUP_MEM	127791952
+REDUCE	CLEANUP	44000
+REDUCE	CLEANUP_MEM	173699984
+REDUCE	TOTAL_RUN	106892216695
+REDUCE	READ	7905742446
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	89659810249
+REDUCE	WRITE	31889161249
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	67755424
+REDUCE	VALUE_BYTE_COUNT	62180182
+REDUCE	REDUCE_MEM	173702032
+REDUCE	WRITE	12829000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	772244630847
@@ -0,0 +1,1333 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2060083
+SHUFFLE	COMPRESS_BYTE_COUNT	559589
+SHUFFLE	COPY_MAP_DATA	388153000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1977375
+SHUFFLE	COMPRESS_BYTE_COUNT	569636
+SHUFFLE	COPY_MAP_DATA	110935000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1968259
+SHUFFLE	COMPRESS_BYTE_COUNT	576831
+SHUFFLE	COPY_MAP_DATA	141184000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1959314
+SHUFFLE	COMPRESS_BYTE_COUNT	487145
+SHUFFLE	COPY_MAP_DATA	37763000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2037806
+SHUFFLE	COMPRESS_BYTE_COUNT	574641
+SHUFFLE	COPY_MAP_DATA	110721000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2099882
+SHUFFLE	COMPRESS_BYTE_COUNT	584646
+SHUFFLE	COPY_MAP_DATA	70192000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1841100
+SHUFFLE	COMPRESS_BYTE_COUNT	548239
+SHUFFLE	COPY_MAP_DATA	339605000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2022433
+SHUFFLE	COMPRESS_BYTE_COUNT	565781
+SHUFFLE	COPY_MAP_DATA	31308000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2041324
+SHUFFLE	COMPRESS_BYTE_COUNT	546494
+SHUFFLE	COPY_MAP_DATA	49007000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2066548
+SHUFFLE	COMPRESS_BYTE_COUNT	572793
+SHUFFLE	COPY_MAP_DATA	41661000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1931705
+SHUFFLE	COMPRESS_BYTE_COUNT	571157
+SHUFFLE	COPY_MAP_DATA	51785000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2067569
+SHUFFLE	COMPRESS_BYTE_COUNT	587972
+SHUFFLE	COPY_MAP_DATA	33716000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2008343
+SHUFFLE	COMPRESS_BYTE_COUNT	569251
+SHUFFLE	COPY_MAP_DATA	299965000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1786470
+SHUFFLE	COMPRESS_BYTE_COUNT	483463
+SHUFFLE	COPY_MAP_DATA	42816000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2120148
+SHUFFLE	COMPRESS_BYTE_COUNT	587070
+SHUFFLE	COPY_MAP_DATA	199939000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1938143
+SHUFFLE	COMPRESS_BYTE_COUNT	571821
+SHUFFLE	COPY_MAP_DATA	47628000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2000654
+SHUFFLE	COMPRESS_BYTE_COUNT	576244
+SHUFFLE	COPY_MAP_DATA	27330000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2136026
+SHUFFLE	COMPRESS_BYTE_COUNT	556624
+SHUFFLE	COPY_MAP_DATA	30007000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2175856
+SHUFFLE	COMPRESS_BYTE_COUNT	568491
+SHUFFLE	COPY_MAP_DATA	56124000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2028729
+SHUFFLE	COMPRESS_BYTE_COUNT	576454
+SHUFFLE	COPY_MAP_DATA	76797000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2248822
+SHUFFLE	COMPRESS_BYTE_COUNT	584910
+SHUFFLE	COPY_MAP_DATA	35507000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2069025
+SHUFFLE	COMPRESS_BYTE_COUNT	580197
+SHUFFLE	COPY_MAP_DATA	34473000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1987146
+SHUFFLE	COMPRESS_BYTE_COUNT	568394
+SHUFFLE	COPY_MAP_DATA	47626000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1994713
+SHUFFLE	COMPRESS_BYTE_COUNT	575448
+SHUFFLE	COPY_MAP_DATA	169469000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1890972
+SHUFFLE	COMPRESS_BYTE_COUNT	559123
+SHUFFLE	COPY_MAP_DATA	28588000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2189667
+SHUFFLE	COMPRESS_BYTE_COUNT	578858
+SHUFFLE	COPY_MAP_DATA	415403000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1840453
+SHUFFLE	COMPRESS_BYTE_COUNT	494726
+SHUFFLE	COPY_MAP_DATA	315615000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2095239
+SHUFFLE	COMPRESS_BYTE_COUNT	565447
+SHUFFLE	COPY_MAP_DATA	86080000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2243287
+SHUFFLE	COMPRESS_BYTE_COUNT	594697
+SHUFFLE	COPY_MAP_DATA	277901000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2182602
+SHUFFLE	COMPRESS_BYTE_COUNT	570740
+SHUFFLE	COPY_MAP_DATA	59875000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1814561
+SHUFFLE	COMPRESS_BYTE_COUNT	537559
+SHUFFLE	COPY_MAP_DATA	29127000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1859605
+SHUFFLE	COMPRESS_BYTE_COUNT	554220
+SHUFFLE	COPY_MAP_DATA	29618000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1888006
+SHUFFLE	COMPRESS_BYTE_COUNT	560185
+SHUFFLE	COPY_MAP_DATA	37678000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1748208
+SHUFFLE	COMPRESS_BYTE_COUNT	527203
+SHUFFLE	COPY_MAP_DATA	161944000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2036463
+SHUFFLE	COMPRESS_BYTE_COUNT	575310
+SHUFFLE	COPY_MAP_DATA	59335000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1974186
+SHUFFLE	COMPRESS_BYTE_COUNT	565811
+SHUFFLE	COPY_MAP_DATA	103490000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1839753
+SHUFFLE	COMPRESS_BYTE_COUNT	551115
+SHUFFLE	COPY_MAP_DATA	29920000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1771948
+SHUFFLE	COMPRESS_BYTE_COUNT	537025
+SHUFFLE	COPY_MAP_DATA	28292000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1970454
+SHUFFLE	COMPRESS_BYTE_COUNT	575274
+SHUFFLE	COPY_MAP_DATA	110773000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1809551
+SHUFFLE	COMPRESS_BYTE_COUNT	537816
+SHUFFLE	COPY_MAP_DATA	407038000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1569267
+SHUFFLE	COMPRESS_BYTE_COUNT	459913
+SHUFFLE	COPY_MAP_DATA	68456000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1866673
+SHUFFLE	COMPRESS_BYTE_COUNT	457544
+SHUFFLE	COPY_MAP_DATA	24187000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1840749
+SHUFFLE	COMPRESS_BYTE_COUNT	551494
+SHUFFLE	COPY_MAP_DATA	26904000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1741773
+SHUFFLE	COMPRESS_BYTE_COUNT	537428
+SHUFFLE	COPY_MAP_DATA	27786000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1807014
+SHUFFLE	COMPRESS_BYTE_COUNT	542906
+SHUFFLE	COPY_MAP_DATA	44807000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1655503
+SHUFFLE	COMPRESS_BYTE_COUNT	487330
+SHUFFLE	COPY_MAP_DATA	147006000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1728800
+SHUFFLE	COMPRESS_BYTE_COUNT	491269
+SHUFFLE	COPY_MAP_DATA	331439000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1849300
+SHUFFLE	COMPRESS_BYTE_COUNT	553425
+SHUFFLE	COPY_MAP_DATA	167704000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1933019
+SHUFFLE	COMPRESS_BYTE_COUNT	565505
+SHUFFLE	COPY_MAP_DATA	215485000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1826870
+SHUFFLE	COMPRESS_BYTE_COUNT	546733
+SHUFFLE	COPY_MAP_DATA	49583000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1701420
+SHUFFLE	COMPRESS_BYTE_COUNT	485790
+SHUFFLE	COPY_MAP_DATA	236416000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1839941
+SHUFFLE	COMPRESS_BYTE_COUNT	532187
+SHUFFLE	COPY_MAP_DATA	93587000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1734069
+SHUFFLE	COMPRESS_BYTE_COUNT	502961
+SHUFFLE	COPY_MAP_DATA	145194000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1865346
+SHUFFLE	COMPRESS_BYTE_COUNT	536277
+SHUFFLE	COPY_MAP_DATA	394850000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1800218
+SHUFFLE	COMPRESS_BYTE_COUNT	544850
+SHUFFLE	COPY_MAP_DATA	42472000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1672951
+SHUFFLE	COMPRESS_BYTE_COUNT	490960
+SHUFFLE	COPY_MAP_DATA	65195000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1905735
+SHUFFLE	COMPRESS_BYTE_COUNT	552763
+SHUFFLE	COPY_MAP_DATA	29442000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1945231
+SHUFFLE	COMPRESS_BYTE_COUNT	556570
+SHUFFLE	COPY_MAP_DATA	36217000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1849979
+SHUFFLE	COMPRESS_BYTE_COUNT	541099
+SHUFFLE	COPY_MAP_DATA	28478000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1774460
+SHUFFLE	COMPRESS_BYTE_COUNT	530065
+SHUFFLE	COPY_MAP_DATA	27739000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1676700
+SHUFFLE	COMPRESS_BYTE_COUNT	487795
+SHUFFLE	COPY_MAP_DATA	26304000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1638892
+SHUFFLE	COMPRESS_BYTE_COUNT	477028
+SHUFFLE	COPY_MAP_DATA	25209000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1725152
+SHUFFLE	COMPRESS_BYTE_COUNT	488613
+SHUFFLE	COPY_MAP_DATA	42209000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1618250
+SHUFFLE	COMPRESS_BYTE_COUNT	482309
+SHUFFLE	COPY_MAP_DATA	24886000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1577088
+SHUFFLE	COMPRESS_BYTE_COUNT	447483
+SHUFFLE	COPY_MAP_DATA	250399000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1653983
+SHUFFLE	COMPRESS_BYTE_COUNT	480977
+SHUFFLE	COPY_MAP_DATA	162080000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1468062
+SHUFFLE	COMPRESS_BYTE_COUNT	435155
+SHUFFLE	COPY_MAP_DATA	61536000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1614822
+SHUFFLE	COMPRESS_BYTE_COUNT	462174
+SHUFFLE	COPY_MAP_DATA	264719000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1860778
+SHUFFLE	COMPRESS_BYTE_COUNT	537038
+SHUFFLE	COPY_MAP_DATA	78632000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1548648
+SHUFFLE	COMPRESS_BYTE_COUNT	453554
+SHUFFLE	COPY_MAP_DATA	264956000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1744200
+SHUFFLE	COMPRESS_BYTE_COUNT	477816
+SHUFFLE	COPY_MAP_DATA	98955000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1671444
+SHUFFLE	COMPRESS_BYTE_COUNT	481750
+SHUFFLE	COPY_MAP_DATA	177258000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1636872
+SHUFFLE	COMPRESS_BYTE_COUNT	475243
+SHUFFLE	COPY_MAP_DATA	68157000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1606957
+SHUFFLE	COMPRESS_BYTE_COUNT	455229
+SHUFFLE	COPY_MAP_DATA	23200000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1599780
+SHUFFLE	COMPRESS_BYTE_COUNT	470277
+SHUFFLE	COPY_MAP_DATA	36041000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1620609
+SHUFFLE	COMPRESS_BYTE_COUNT	475363
+SHUFFLE	COPY_MAP_DATA	24094000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1642878
+SHUFFLE	COMPRESS_BYTE_COUNT	480230
+SHUFFLE	COPY_MAP_DATA	88597000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1585724
+SHUFFLE	COMPRESS_BYTE_COUNT	457246
+SHUFFLE	COPY_MAP_DATA	252867000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1934786
+SHUFFLE	COMPRESS_BYTE_COUNT	581079
+SHUFFLE	COPY_MAP_DATA	66876000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1664356
+SHUFFLE	COMPRESS_BYTE_COUNT	480039
+SHUFFLE	COPY_MAP_DATA	245823000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1706740
+SHUFFLE	COMPRESS_BYTE_COUNT	485090
+SHUFFLE	COPY_MAP_DATA	27083000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1814900
+SHUFFLE	COMPRESS_BYTE_COUNT	526305
+SHUFFLE	COPY_MAP_DATA	27212000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1864684
+SHUFFLE	COMPRESS_BYTE_COUNT	575629
+SHUFFLE	COPY_MAP_DATA	941843000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1656270
+SHUFFLE	COMPRESS_BYTE_COUNT	477235
+SHUFFLE	COPY_MAP_DATA	45106000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1743284
+SHUFFLE	COMPRESS_BYTE_COUNT	526844
+SHUFFLE	COPY_MAP_DATA	238344000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1593038
+SHUFFLE	COMPRESS_BYTE_COUNT	471154
+SHUFFLE	COPY_MAP_DATA	1538838000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1757912
+SHUFFLE	COMPRESS_BYTE_COUNT	542099
+SHUFFLE	COPY_MAP_DATA	30211000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	888836
+SHUFFLE	COMPRESS_BYTE_COUNT	243957
+SHUFFLE	COPY_MAP_DATA	15883000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1462367
+SHUFFLE	COMPRESS_BYTE_COUNT	434821
+SHUFFLE	COPY_MAP_DATA	189170000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1472551
+SHUFFLE	COMPRESS_BYTE_COUNT	431506
+SHUFFLE	COPY_MAP_DATA	24547000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1570915
+SHUFFLE	COMPRESS_BYTE_COUNT	452175
+SHUFFLE	COPY_MAP_DATA	24872000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	898141
+SHUFFLE	COMPRESS_BYTE_COUNT	255201
+SHUFFLE	COPY_MAP_DATA	238605000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1070480
+SHUFFLE	COMPRESS_BYTE_COUNT	273232
+SHUFFLE	COPY_MAP_DATA	67302000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	942314
+SHUFFLE	COMPRESS_BYTE_COUNT	268558
+SHUFFLE	COPY_MAP_DATA	16840000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	850596
+SHUFFLE	COMPRESS_BYTE_COUNT	245226
+SHUFFLE	COPY_MAP_DATA	23903000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1044311
+SHUFFLE	COMPRESS_BYTE_COUNT	298755
+SHUFFLE	COPY_MAP_DATA	441241000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1741510
+SHUFFLE	COMPRESS_BYTE_COUNT	475666
+SHUFFLE	COPY_MAP_DATA	249132000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1506812
+SHUFFLE	COMPRESS_BYTE_COUNT	453415
+SHUFFLE	COPY_MAP_DATA	175225000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	935876
+SHUFFLE	COMPRESS_BYTE_COUNT	254869
+SHUFFLE	COPY_MAP_DATA	231997000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1680438
+SHUFFLE	COMPRESS_BYTE_COUNT	480961
+SHUFFLE	COPY_MAP_DATA	497977000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1437311
+SHUFFLE	COMPRESS_BYTE_COUNT	427065
+SHUFFLE	COPY_MAP_DATA	24171000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1728335
+SHUFFLE	COMPRESS_BYTE_COUNT	496563
+SHUFFLE	COPY_MAP_DATA	2265832000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1769569
+SHUFFLE	COMPRESS_BYTE_COUNT	484801
+SHUFFLE	COPY_MAP_DATA	7497700000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1535647
+SHUFFLE	COMPRESS_BYTE_COUNT	430006
+SHUFFLE	COPY_MAP_DATA	260393000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1493009
+SHUFFLE	COMPRESS_BYTE_COUNT	443402
+SHUFFLE	COPY_MAP_DATA	223217000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1539310
+SHUFFLE	COMPRESS_BYTE_COUNT	445689
+SHUFFLE	COPY_MAP_DATA	595423000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1036339
+SHUFFLE	COMPRESS_BYTE_COUNT	294066
+SHUFFLE	COPY_MAP_DATA	315096000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1102301
+SHUFFLE	COMPRESS_BYTE_COUNT	300797
+SHUFFLE	COPY_MAP_DATA	781317000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1725805
+SHUFFLE	COMPRESS_BYTE_COUNT	539300
+SHUFFLE	COPY_MAP_DATA	27969000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1802205
+SHUFFLE	COMPRESS_BYTE_COUNT	514435
+SHUFFLE	COPY_MAP_DATA	199513000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1130122
+SHUFFLE	COMPRESS_BYTE_COUNT	304589
+SHUFFLE	COPY_MAP_DATA	544478000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1861667
+SHUFFLE	COMPRESS_BYTE_COUNT	373052
+SHUFFLE	COPY_MAP_DATA	99596000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1769723
+SHUFFLE	COMPRESS_BYTE_COUNT	485144
+SHUFFLE	COPY_MAP_DATA	2012979000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1005906
+SHUFFLE	COMPRESS_BYTE_COUNT	284579
+SHUFFLE	COPY_MAP_DATA	350869000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1015774
+SHUFFLE	COMPRESS_BYTE_COUNT	291802
+SHUFFLE	COPY_MAP_DATA	16402000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1674063
+SHUFFLE	COMPRESS_BYTE_COUNT	477033
+SHUFFLE	COPY_MAP_DATA	24125000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1654150
+SHUFFLE	COMPRESS_BYTE_COUNT	498552
+SHUFFLE	COPY_MAP_DATA	53553000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1057313
+SHUFFLE	COMPRESS_BYTE_COUNT	298511
+SHUFFLE	COPY_MAP_DATA	17567000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1562824
+SHUFFLE	COMPRESS_BYTE_COUNT	462339
+SHUFFLE	COPY_MAP_DATA	3338039000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1782691
+SHUFFLE	COMPRESS_BYTE_COUNT	527904
+SHUFFLE	COPY_MAP_DATA	2106556000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1038009
+SHUFFLE	COMPRESS_BYTE_COUNT	298915
+SHUFFLE	COPY_MAP_DATA	18086000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1004987
+SHUFFLE	COMPRESS_BYTE_COUNT	278061
+SHUFFLE	COPY_MAP_DATA	19775000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1009498
+SHUFFLE	COMPRESS_BYTE_COUNT	297150
+SHUFFLE	COPY_MAP_DATA	18688000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	996618
+SHUFFLE	COMPRESS_BYTE_COUNT	297276
+SHUFFLE	COPY_MAP_DATA	17807000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1728749
+SHUFFLE	COMPRESS_BYTE_COUNT	491105
+SHUFFLE	COPY_MAP_DATA	2503054000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1036954
+SHUFFLE	COMPRESS_BYTE_COUNT	305205
+SHUFFLE	COPY_MAP_DATA	7137547000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1085939
+SHUFFLE	COMPRESS_BYTE_COUNT	309036
+SHUFFLE	COPY_MAP_DATA	340967000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1022249
+SHUFFLE	COMPRESS_BYTE_COUNT	299226
+SHUFFLE	COPY_MAP_DATA	18002000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1080303
+SHUFFLE	COMPRESS_BYTE_COUNT	303269
+SHUFFLE	COPY_MAP_DATA	39532000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1045222
+SHUFFLE	COMPRESS_BYTE_COUNT	301333
+SHUFFLE	COPY_MAP_DATA	75686000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1028310
+SHUFFLE	COMPRESS_BYTE_COUNT	301754
+SHUFFLE	COPY_MAP_DATA	46869000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1037928
+SHUFFLE	COMPRESS_BYTE_COUNT	298440
+SHUFFLE	COPY_MAP_DATA	664158000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1048838
+SHUFFLE	COMPRESS_BYTE_COUNT	299594
+SHUFFLE	COPY_MAP_DATA	89559000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1077635
+SHUFFLE	COMPRESS_BYTE_COUNT	314835
+SHUFFLE	COPY_MAP_DATA	10159704000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1000152
+SHUFFLE	COMPRESS_BYTE_COUNT	299356
+SHUFFLE	COPY_MAP_DATA	92400000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1024423
+SHUFFLE	COMPRESS_BYTE_COUNT	298784
+SHUFFLE	COPY_MAP_DATA	16814000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1053240
+SHUFFLE	COMPRESS_BYTE_COUNT	300964
+SHUFFLE	COPY_MAP_DATA	1105376000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1082141
+SHUFFLE	COMPRESS_BYTE_COUNT	317086
+SHUFFLE	COPY_MAP_DATA	18344000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1025817
+SHUFFLE	COMPRESS_BYTE_COUNT	294434
+SHUFFLE	COPY_MAP_DATA	18670000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1195584
+SHUFFLE	COMPRESS_BYTE_COUNT	309959
+SHUFFLE	COPY_MAP_DATA	17901000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	983777
+SHUFFLE	COMPRESS_BYTE_COUNT	296649
+SHUFFLE	COPY_MAP_DATA	321936000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1044604
+SHUFFLE	COMPRESS_BYTE_COUNT	309846
+SHUFFLE	COPY_MAP_DATA	101601000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1030771
+SHUFFLE	COMPRESS_BYTE_COUNT	305630
+SHUFFLE	COPY_MAP_DATA	16873000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1009578
+SHUFFLE	COMPRESS_BYTE_COUNT	300990
+SHUFFLE	COPY_MAP_DATA	18237000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1017922
+SHUFFLE	COMPRESS_BYTE_COUNT	301913
+SHUFFLE	COPY_MAP_DATA	52158000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1030617
+SHUFFLE	COMPRESS_BYTE_COUNT	309791
+SHUFFLE	COPY_MAP_DATA	171743000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	997960
+SHUFFLE	COMPRESS_BYTE_COUNT	297910
+SHUFFLE	COPY_MAP_DATA	26685000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	956157
+SHUFFLE	COMPRESS_BYTE_COUNT	281298
+SHUFFLE	COPY_MAP_DATA	407157000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	964928
+SHUFFLE	COMPRESS_BYTE_COUNT	293502
+SHUFFLE	COPY_MAP_DATA	157743000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	988862
+SHUFFLE	COMPRESS_BYTE_COUNT	297488
+SHUFFLE	COPY_MAP_DATA	16340000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1157350
+SHUFFLE	COMPRESS_BYTE_COUNT	315047
+SHUFFLE	COPY_MAP_DATA	36469000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1021328
+SHUFFLE	COMPRESS_BYTE_COUNT	298804
+SHUFFLE	COPY_MAP_DATA	19029000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1003333
+SHUFFLE	COMPRESS_BYTE_COUNT	308747
+SHUFFLE	COPY_MAP_DATA	18648000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	990423
+SHUFFLE	COMPRESS_BYTE_COUNT	291118
+SHUFFLE	COPY_MAP_DATA	37840000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1019583
+SHUFFLE	COMPRESS_BYTE_COUNT	304871
+SHUFFLE	COPY_MAP_DATA	142270000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1043096
+SHUFFLE	COMPRESS_BYTE_COUNT	279719
+SHUFFLE	COPY_MAP_DATA	16905000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	939550
+SHUFFLE	COMPRESS_BYTE_COUNT	289766
+SHUFFLE	COPY_MAP_DATA	16895000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	980388
+SHUFFLE	COMPRESS_BYTE_COUNT	301193
+SHUFFLE	COPY_MAP_DATA	16806000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	966829
+SHUFFLE	COMPRESS_BYTE_COUNT	298806
+SHUFFLE	COPY_MAP_DATA	17176000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	993170
+SHUFFLE	COMPRESS_BYTE_COUNT	297867
+SHUFFLE	COPY_MAP_DATA	18374000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1127020
+SHUFFLE	COMPRESS_BYTE_COUNT	295773
+SHUFFLE	COPY_MAP_DATA	16764000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	955496
+SHUFFLE	COMPRESS_BYTE_COUNT	291076
+SHUFFLE	COPY_MAP_DATA	105023000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1036313
+SHUFFLE	COMPRESS_BYTE_COUNT	303265
+SHUFFLE	COPY_MAP_DATA	18319000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1120467
+SHUFFLE	COMPRESS_BYTE_COUNT	301774
+SHUFFLE	COPY_MAP_DATA	40457000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	921588
+SHUFFLE	COMPRESS_BYTE_COUNT	283188
+SHUFFLE	COPY_MAP_DATA	15941000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	985137
+SHUFFLE	COMPRESS_BYTE_COUNT	301517
+SHUFFLE	COPY_MAP_DATA	87154000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	975097
+SHUFFLE	COMPRESS_BYTE_COUNT	299344
+SHUFFLE	COPY_MAP_DATA	81664000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	957794
+SHUFFLE	COMPRESS_BYTE_COUNT	288023
+SHUFFLE	COPY_MAP_DATA	38397000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1069202
+SHUFFLE	COMPRESS_BYTE_COUNT	304401
+SHUFFLE	COPY_MAP_DATA	23522000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	932221
+SHUFFLE	COMPRESS_BYTE_COUNT	287801
+SHUFFLE	COPY_MAP_DATA	359637000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	993978
+SHUFFLE	COMPRESS_BYTE_COUNT	294713
+SHUFFLE	COPY_MAP_DATA	80602000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	995359
+SHUFFLE	COMPRESS_BYTE_COUNT	301368
+SHUFFLE	COPY_MAP_DATA	78991000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	890175
+SHUFFLE	COMPRESS_BYTE_COUNT	278403
+SHUFFLE	COPY_MAP_DATA	146263000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	957757
+SHUFFLE	COMPRESS_BYTE_COUNT	294226
+SHUFFLE	COPY_MAP_DATA	909587000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1016879
+SHUFFLE	COMPRESS_BYTE_COUNT	303296
+SHUFFLE	COPY_MAP_DATA	25875000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	985326
+SHUFFLE	COMPRESS_BYTE_COUNT	291443
+SHUFFLE	COPY_MAP_DATA	104800000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	943151
+SHUFFLE	COMPRESS_BYTE_COUNT	296287
+SHUFFLE	COPY_MAP_DATA	104191000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	964878
+SHUFFLE	COMPRESS_BYTE_COUNT	293034
+SHUFFLE	COPY_MAP_DATA	866346000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	989076
+SHUFFLE	COMPRESS_BYTE_COUNT	302846
+SHUFFLE	COPY_MAP_DATA	168429000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	952968
+SHUFFLE	COMPRESS_BYTE_COUNT	293071
+SHUFFLE	COPY_MAP_DATA	34737000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	938006
+SHUFFLE	COMPRESS_BYTE_COUNT	289069
+SHUFFLE	COPY_MAP_DATA	32191000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	901201
+SHUFFLE	COMPRESS_BYTE_COUNT	281529
+SHUFFLE	COPY_MAP_DATA	56618000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	929113
+SHUFFLE	COMPRESS_BYTE_COUNT	283075
+SHUFFLE	COPY_MAP_DATA	87792000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	893444
+SHUFFLE	COMPRESS_BYTE_COUNT	278135
+SHUFFLE	COPY_MAP_DATA	621984000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	931682
+SHUFFLE	COMPRESS_BYTE_COUNT	290698
+SHUFFLE	COPY_MAP_DATA	69223000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	908491
+SHUFFLE	COMPRESS_BYTE_COUNT	281364
+SHUFFLE	COPY_MAP_DATA	46966000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	977525
+SHUFFLE	COMPRESS_BYTE_COUNT	297399
+SHUFFLE	COPY_MAP_DATA	26691000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	892975
+SHUFFLE	COMPRESS_BYTE_COUNT	276220
+SHUFFLE	COPY_MAP_DATA	15993000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	875334
+SHUFFLE	COMPRESS_BYTE_COUNT	274165
+SHUFFLE	COPY_MAP_DATA	87632000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	955787
+SHUFFLE	COMPRESS_BYTE_COUNT	295262
+SHUFFLE	COPY_MAP_DATA	16573000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	924655
+SHUFFLE	COMPRESS_BYTE_COUNT	280874
+SHUFFLE	COPY_MAP_DATA	329008000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	917203
+SHUFFLE	COMPRESS_BYTE_COUNT	288528
+SHUFFLE	COPY_MAP_DATA	36135000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	891160
+SHUFFLE	COMPRESS_BYTE_COUNT	281280
+SHUFFLE	COPY_MAP_DATA	116793000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	940811
+SHUFFLE	COMPRESS_BYTE_COUNT	294177
+SHUFFLE	COPY_MAP_DATA	83907000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	921260
+SHUFFLE	COMPRESS_BYTE_COUNT	289304
+SHUFFLE	COPY_MAP_DATA	16654000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	969432
+SHUFFLE	COMPRESS_BYTE_COUNT	296121
+SHUFFLE	COPY_MAP_DATA	38932000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	909669
+SHUFFLE	COMPRESS_BYTE_COUNT	279639
+SHUFFLE	COPY_MAP_DATA	2361749000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	898447
+SHUFFLE	COMPRESS_BYTE_COUNT	285739
+SHUFFLE	COPY_MAP_DATA	17239000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	915945
+SHUFFLE	COMPRESS_BYTE_COUNT	285322
+SHUFFLE	COPY_MAP_DATA	1658380000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	923339
+SHUFFLE	COMPRESS_BYTE_COUNT	271837
+SHUFFLE	COPY_MAP_DATA	150215000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	896604
+SHUFFLE	COMPRESS_BYTE_COUNT	276966
+SHUFFLE	COPY_MAP_DATA	131037000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	925326
+SHUFFLE	COMPRESS_BYTE_COUNT	281740
+SHUFFLE	COPY_MAP_DATA	17547000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	837781
+SHUFFLE	COMPRESS_BYTE_COUNT	251888
+SHUFFLE	COPY_MAP_DATA	4025995000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	879263
+SHUFFLE	COMPRESS_BYTE_COUNT	280570
+SHUFFLE	COPY_MAP_DATA	94318000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	834566
+SHUFFLE	COMPRESS_BYTE_COUNT	252871
+SHUFFLE	COPY_MAP_DATA	13658000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	893608
+SHUFFLE	COMPRESS_BYTE_COUNT	273181
+SHUFFLE	COPY_MAP_DATA	52361000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	873503
+SHUFFLE	COMPRESS_BYTE_COUNT	271793
+SHUFFLE	COPY_MAP_DATA	432700000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	941504
+SHUFFLE	COMPRESS_BYTE_COUNT	290365
+SHUFFLE	COPY_MAP_DATA	15988000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	947658
+SHUFFLE	COMPRESS_BYTE_COUNT	292612
+SHUFFLE	COPY_MAP_DATA	65687000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	857050
+SHUFFLE	COMPRESS_BYTE_COUNT	265906
+SHUFFLE	COPY_MAP_DATA	82252000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	878960
+SHUFFLE	COMPRESS_BYTE_COUNT	277416
+SHUFFLE	COPY_MAP_DATA	115740000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	955363
+SHUFFLE	COMPRESS_BYTE_COUNT	293778
+SHUFFLE	COPY_MAP_DATA	32585000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	898439
+SHUFFLE	COMPRESS_BYTE_COUNT	261886
+SHUFFLE	COPY_MAP_DATA	196629000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	848225
+SHUFFLE	COMPRESS_BYTE_COUNT	254968
+SHUFFLE	COPY_MAP_DATA	16461000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	809900
+SHUFFLE	COMPRESS_BYTE_COUNT	247395
+SHUFFLE	COPY_MAP_DATA	15627000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	845349
+SHUFFLE	COMPRESS_BYTE_COUNT	268223
+SHUFFLE	COPY_MAP_DATA	16370000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	799048
+SHUFFLE	COMPRESS_BYTE_COUNT	243877
+SHUFFLE	COPY_MAP_DATA	15699000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	864936
+SHUFFLE	COMPRESS_BYTE_COUNT	262331
+SHUFFLE	COPY_MAP_DATA	139323000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	881195
+SHUFFLE	COMPRESS_BYTE_COUNT	257829
+SHUFFLE	COPY_MAP_DATA	15376000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	950374
+SHUFFLE	COMPRESS_BYTE_COUNT	279961
+SHUFFLE	COPY_MAP_DATA	165437000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	862512
+SHUFFLE	COMPRESS_BYTE_COUNT	271619
+SHUFFLE	COPY_MAP_DATA	240741000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	866802
+SHUFFLE	COMPRESS_BYTE_COUNT	257902
+SHUFFLE	COPY_MAP_DATA	152362000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	838851
+SHUFFLE	COMPRESS_BYTE_COUNT	251989
+SHUFFLE	COPY_MAP_DATA	86546000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	997799
+SHUFFLE	COMPRESS_BYTE_COUNT	292436
+SHUFFLE	COPY_MAP_DATA	187856000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	881467
+SHUFFLE	COMPRESS_BYTE_COUNT	266711
+SHUFFLE	COPY_MAP_DATA	72718000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	867549
+SHUFFLE	COMPRESS_BYTE_COUNT	263618
+SHUFFLE	COPY_MAP_DATA	2145155000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	935046
+SHUFFLE	COMPRESS_BYTE_COUNT	268242
+SHUFFLE	COPY_MAP_DATA	15424000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	797141
+SHUFFLE	COMPRESS_BYTE_COUNT	243774
+SHUFFLE	COPY_MAP_DATA	33626000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	896290
+SHUFFLE	COMPRESS_BYTE_COUNT	269179
+SHUFFLE	COPY_MAP_DATA	989761000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	820770
+SHUFFLE	COMPRESS_BYTE_COUNT	243929
+SHUFFLE	COPY_MAP_DATA	375162000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	750335
+SHUFFLE	COMPRESS_BYTE_COUNT	233446
+SHUFFLE	COPY_MAP_DATA	57906000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	946108
+SHUFFLE	COMPRESS_BYTE_COUNT	226530
+SHUFFLE	COPY_MAP_DATA	99067000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	807099
+SHUFFLE	COMPRESS_BYTE_COUNT	249343
+SHUFFLE	COPY_MAP_DATA	16738000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	937441
+SHUFFLE	COMPRESS_BYTE_COUNT	281769
+SHUFFLE	COPY_MAP_DATA	986894000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	810131
+SHUFFLE	COMPRESS_BYTE_COUNT	242836
+SHUFFLE	COPY_MAP_DATA	13813000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	833215
+SHUFFLE	COMPRESS_BYTE_COUNT	254197
+SHUFFLE	COPY_MAP_DATA	16098000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	801367
+SHUFFLE	COMPRESS_BYTE_COUNT	236990
+SHUFFLE	COPY_MAP_DATA	90184000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	782853
+SHUFFLE	COMPRESS_BYTE_COUNT	237871
+SHUFFLE	COPY_MAP_DATA	14106000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	882467
+SHUFFLE	COMPRESS_BYTE_COUNT	258333
+SHUFFLE	COPY_MAP_DATA	64153000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	798230
+SHUFFLE	COMPRESS_BYTE_COUNT	241171
+SHUFFLE	COPY_MAP_DATA	36766000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	832757
+SHUFFLE	COMPRESS_BYTE_COUNT	253290
+SHUFFLE	COPY_MAP_DATA	15073000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	790569
+SHUFFLE	COMPRESS_BYTE_COUNT	240745
+SHUFFLE	COPY_MAP_DATA	15588000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	835191
+SHUFFLE	COMPRESS_BYTE_COUNT	252268
+SHUFFLE	COPY_MAP_DATA	15484000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	801927
+SHUFFLE	COMPRESS_BYTE_COUNT	235312
+SHUFFLE	COPY_MAP_DATA	14489000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	853197
+SHUFFLE	COMPRESS_BYTE_COUNT	247444
+SHUFFLE	COPY_MAP_DATA	14802000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	753652
+SHUFFLE	COMPRESS_BYTE_COUNT	231838
+SHUFFLE	COPY_MAP_DATA	13462000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	949950
+SHUFFLE	COMPRESS_BYTE_COUNT	281670
+SHUFFLE	COPY_MAP_DATA	35188000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	812551
+SHUFFLE	COMPRESS_BYTE_COUNT	247150
+SHUFFLE	COPY_MAP_DATA	141407000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	775255
+SHUFFLE	COMPRESS_BYTE_COUNT	235216
+SHUFFLE	COPY_MAP_DATA	14335000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	836539
+SHUFFLE	COMPRESS_BYTE_COUNT	259522
+SHUFFLE	COPY_MAP_DATA	26421000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	864952
+SHUFFLE	COMPRESS_BYTE_COUNT	263304
+SHUFFLE	COPY_MAP_DATA	4213388000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	807911
+SHUFFLE	COMPRESS_BYTE_COUNT	227575
+SHUFFLE	COPY_MAP_DATA	14031000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	843245
+SHUFFLE	COMPRESS_BYTE_COUNT	252932
+SHUFFLE	COPY_MAP_DATA	14881000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1151935
+SHUFFLE	COMPRESS_BYTE_COUNT	359717
+SHUFFLE	COPY_MAP_DATA	48744000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	787231
+SHUFFLE	COMPRESS_BYTE_COUNT	239699
+SHUFFLE	COPY_MAP_DATA	88177000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	857686
+SHUFFLE	COMPRESS_BYTE_COUNT	259960
+SHUFFLE	COPY_MAP_DATA	75383000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	793756
+SHUFFLE	COMPRESS_BYTE_COUNT	239451
+SHUFFLE	COPY_MAP_DATA	14671000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	813457
+SHUFFLE	COMPRESS_BYTE_COUNT	240888
+SHUFFLE	COPY_MAP_DATA	43755000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	726136
+SHUFFLE	COMPRESS_BYTE_COUNT	220465
+SHUFFLE	COPY_MAP_DATA	11959000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	849839
+SHUFFLE	COMPRESS_BYTE_COUNT	253358
+SHUFFLE	COPY_MAP_DATA	188288000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	799635
+SHUFFLE	COMPRESS_BYTE_COUNT	242000
+SHUFFLE	COPY_MAP_DATA	17828000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	926747
+SHUFFLE	COMPRESS_BYTE_COUNT	275485
+SHUFFLE	COPY_MAP_DATA	37946000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	843959
+SHUFFLE	COMPRESS_BYTE_COUNT	246938
+SHUFFLE	COPY_MAP_DATA	527375000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	864391
+SHUFFLE	COMPRESS_BYTE_COUNT	269116
+SHUFFLE	COPY_MAP_DATA	435687000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	801683
+SHUFFLE	COMPRESS_BYTE_COUNT	238054
+SHUFFLE	COPY_MAP_DATA	249731000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	794491
+SHUFFLE	COMPRESS_BYTE_COUNT	232552
+SHUFFLE	COPY_MAP_DATA	58238000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	773395
+SHUFFLE	COMPRESS_BYTE_COUNT	234318
+SHUFFLE	COPY_MAP_DATA	60331000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	765068
+SHUFFLE	COMPRESS_BYTE_COUNT	226959
+SHUFFLE	COPY_MAP_DATA	26549000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	781713
+SHUFFLE	COMPRESS_BYTE_COUNT	239364
+SHUFFLE	COPY_MAP_DATA	176964000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	760283
+SHUFFLE	COMPRESS_BYTE_COUNT	233083
+SHUFFLE	COPY_MAP_DATA	76692000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	771039
+SHUFFLE	COMPRESS_BYTE_COUNT	233901
+SHUFFLE	COPY_MAP_DATA	14195000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	813760
+SHUFFLE	COMPRESS_BYTE_COUNT	237511
+SHUFFLE	COPY_MAP_DATA	14385000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	813422
+SHUFFLE	COMPRESS_BYTE_COUNT	242093
+SHUFFLE	COPY_MAP_DATA	13505000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	775355
+SHUFFLE	COMPRESS_BYTE_COUNT	232243
+SHUFFLE	COPY_MAP_DATA	186571000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	746417
+SHUFFLE	COMPRESS_BYTE_COUNT	226373
+SHUFFLE	COPY_MAP_DATA	2144134000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	714412
+SHUFFLE	COMPRESS_BYTE_COUNT	218467
+SHUFFLE	COPY_MAP_DATA	141791000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	852423
+SHUFFLE	COMPRESS_BYTE_COUNT	242531
+SHUFFLE	COPY_MAP_DATA	994145000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1057587
+SHUFFLE	COMPRESS_BYTE_COUNT	340082
+SHUFFLE	COPY_MAP_DATA	222856000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	823114
+SHUFFLE	COMPRESS_BYTE_COUNT	253119
+SHUFFLE	COPY_MAP_DATA	15488000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	838215
+SHUFFLE	COMPRESS_BYTE_COUNT	247299
+SHUFFLE	COPY_MAP_DATA	14777000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	772304
+SHUFFLE	COMPRESS_BYTE_COUNT	231376
+SHUFFLE	COPY_MAP_DATA	12895000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	781180
+SHUFFLE	COMPRESS_BYTE_COUNT	235824
+SHUFFLE	COPY_MAP_DATA	15605000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	775163
+SHUFFLE	COMPRESS_BYTE_COUNT	228504
+SHUFFLE	COPY_MAP_DATA	145689000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	882590
+SHUFFLE	COMPRESS_BYTE_COUNT	264478
+SHUFFLE	COPY_MAP_DATA	139896000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	854319
+SHUFFLE	COMPRESS_BYTE_COUNT	258051
+SHUFFLE	COPY_MAP_DATA	14986000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	738021
+SHUFFLE	COMPRESS_BYTE_COUNT	223600
+SHUFFLE	COPY_MAP_DATA	13245000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	835755
+SHUFFLE	COMPRESS_BYTE_COUNT	254155
+SHUFFLE	COPY_MAP_DATA	73019000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	731762
+SHUFFLE	COMPRESS_BYTE_COUNT	224577
+SHUFFLE	COPY_MAP_DATA	12628000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	818057
+SHUFFLE	COMPRESS_BYTE_COUNT	245970
+SHUFFLE	COPY_MAP_DATA	14764000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	776292
+SHUFFLE	COMPRESS_BYTE_COUNT	230678
+SHUFFLE	COPY_MAP_DATA	106622000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	949711
+SHUFFLE	COMPRESS_BYTE_COUNT	262612
+SHUFFLE	COPY_MAP_DATA	15973000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	903111
+SHUFFLE	COMPRESS_BYTE_COUNT	251272
+SHUFFLE	COPY_MAP_DATA	16220000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	866460
+SHUFFLE	COMPRESS_BYTE_COUNT	251261
+SHUFFLE	COPY_MAP_DATA	15504000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	845870
+SHUFFLE	COMPRESS_BYTE_COUNT	254228
+SHUFFLE	COPY_MAP_DATA	14893000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	808175
+SHUFFLE	COMPRESS_BYTE_COUNT	241490
+SHUFFLE	COPY_MAP_DATA	122943000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	903092
+SHUFFLE	COMPRESS_BYTE_COUNT	268844
+SHUFFLE	COPY_MAP_DATA	502657000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	907566
+SHUFFLE	COMPRESS_BYTE_COUNT	254508
+SHUFFLE	COPY_MAP_DATA	16432000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	875460
+SHUFFLE	COMPRESS_BYTE_COUNT	255936
+SHUFFLE	COPY_MAP_DATA	78783000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	781033
+SHUFFLE	COMPRESS_BYTE_COUNT	236115
+SHUFFLE	COPY_MAP_DATA	13486000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	825507
+SHUFFLE	COMPRESS_BYTE_COUNT	243578
+SHUFFLE	COPY_MAP_DATA	7536767000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	967931
+SHUFFLE	COMPRESS_BYTE_COUNT	308550
+SHUFFLE	COPY_MAP_DATA	34432000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	806183
+SHUFFLE	COMPRESS_BYTE_COUNT	236922
+SHUFFLE	COPY_MAP_DATA	15596000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	757493
+SHUFFLE	COMPRESS_BYTE_COUNT	230105
+SHUFFLE	COPY_MAP_DATA	479169000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	712034
+SHUFFLE	COMPRESS_BYTE_COUNT	216344
+SHUFFLE	COPY_MAP_DATA	14254000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	725634
+SHUFFLE	COMPRESS_BYTE_COUNT	231783
+SHUFFLE	COPY_MAP_DATA	14879000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	823579
+SHUFFLE	COMPRESS_BYTE_COUNT	186005
+SHUFFLE	COPY_MAP_DATA	12625000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	874257
+SHUFFLE	COMPRESS_BYTE_COUNT	261174
+SHUFFLE	COPY_MAP_DATA	16326000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	731762
+SHUFFLE	COMPRESS_BYTE_COUNT	224577
+SHUFFLE	COPY_MAP_DATA	13665000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	759357
+SHUFFLE	COMPRESS_BYTE_COUNT	212643
+SHUFFLE	COPY_MAP_DATA	13080000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	769712
+SHUFFLE	COMPRESS_BYTE_COUNT	224104
+SHUFFLE	COPY_MAP_DATA	14497000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	804328
+SHUFFLE	COMPRESS_BYTE_COUNT	241017
+SHUFFLE	COPY_MAP_DATA	13527000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	865890
+SHUFFLE	COMPRESS_BYTE_COUNT	250761
+SHUFFLE	COPY_MAP_DATA	33111000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1000013
+SHUFFLE	COMPRESS_BYTE_COUNT	275738
+SHUFFLE	COPY_MAP_DATA	16367000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	946938
+SHUFFLE	COMPRESS_BYTE_COUNT	288272
+SHUFFLE	COPY_MAP_DATA	16782000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	833946
+SHUFFLE	COMPRESS_BYTE_COUNT	238163
+SHUFFLE	COPY_MAP_DATA	13188000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	735518
+SHUFFLE	COMPRESS_BYTE_COUNT	226712
+SHUFFLE	COPY_MAP_DATA	13895000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	760953
+SHUFFLE	COMPRESS_BYTE_COUNT	227736
+SHUFFLE	COPY_MAP_DATA	13507000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	656280
+SHUFFLE	COMPRESS_BYTE_COUNT	205643
+SHUFFLE	COPY_MAP_DATA	11940000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	760786
+SHUFFLE	COMPRESS_BYTE_COUNT	223857
+SHUFFLE	COPY_MAP_DATA	1381702000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	915561
+SHUFFLE	COMPRESS_BYTE_COUNT	157333
+SHUFFLE	COPY_MAP_DATA	42587000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	801873
+SHUFFLE	COMPRESS_BYTE_COUNT	247343
+SHUFFLE	COPY_MAP_DATA	15619000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	825659
+SHUFFLE	COMPRESS_BYTE_COUNT	237772
+SHUFFLE	COPY_MAP_DATA	12919000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	861416
+SHUFFLE	COMPRESS_BYTE_COUNT	285632
+SHUFFLE	COPY_MAP_DATA	16446000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	960773
+SHUFFLE	COMPRESS_BYTE_COUNT	313732
+SHUFFLE	COPY_MAP_DATA	31852000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	774244
+SHUFFLE	COMPRESS_BYTE_COUNT	233467
+SHUFFLE	COPY_MAP_DATA	14625000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	772685
+SHUFFLE	COMPRESS_BYTE_COUNT	243602
+SHUFFLE	COPY_MAP_DATA	33846000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	244956041000
+MERGE	READ_WRITE	239860440000
+MERGE	READ_WRITE_COUNT	2
+MERGE	COMBINE	0
+MERGE	WRITE	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	40140835000
+SORT	READ_WRITE	39900182000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	177157312
+REDUCE	SETUP	366000
+REDUCE	SETUP_MEM	177157312
+REDUCE	CLEANUP	39000
+REDUCE	CLEANUP_MEM	140645872
+REDUCE	TOTAL_RUN	110198112000
+REDUCE	READ	9552979000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	93842612000
+REDUCE	WRITE	32409935000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	73357639
+REDUCE	VALUE_BYTE_COUNT	66364249
+REDUCE	REDUCE_MEM	140645872
+REDUCE	WRITE	11180000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	776715358000
@@ -0,0 +1,1333 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1902861
+SHUFFLE	COMPRESS_BYTE_COUNT	558146
+SHUFFLE	COPY_MAP_DATA	55740000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1814270
+SHUFFLE	COMPRESS_BYTE_COUNT	541906
+SHUFFLE	COPY_MAP_DATA	62140000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1980544
+SHUFFLE	COMPRESS_BYTE_COUNT	561110
+SHUFFLE	COPY_MAP_DATA	152553000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1944263
+SHUFFLE	COMPRESS_BYTE_COUNT	558208
+SHUFFLE	COPY_MAP_DATA	34526000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1853521
+SHUFFLE	COMPRESS_BYTE_COUNT	473330
+SHUFFLE	COPY_MAP_DATA	37510000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1983416
+SHUFFLE	COMPRESS_BYTE_COUNT	570766
+SHUFFLE	COPY_MAP_DATA	97150000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1949844
+SHUFFLE	COMPRESS_BYTE_COUNT	570598
+SHUFFLE	COPY_MAP_DATA	74194000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1985645
+SHUFFLE	COMPRESS_BYTE_COUNT	564493
+SHUFFLE	COPY_MAP_DATA	32479000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1926050
+SHUFFLE	COMPRESS_BYTE_COUNT	562541
+SHUFFLE	COPY_MAP_DATA	34961000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1694086
+SHUFFLE	COMPRESS_BYTE_COUNT	467903
+SHUFFLE	COPY_MAP_DATA	38497000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1851137
+SHUFFLE	COMPRESS_BYTE_COUNT	518585
+SHUFFLE	COPY_MAP_DATA	90396000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2030054
+SHUFFLE	COMPRESS_BYTE_COUNT	541469
+SHUFFLE	COPY_MAP_DATA	46307000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1934185
+SHUFFLE	COMPRESS_BYTE_COUNT	572806
+SHUFFLE	COPY_MAP_DATA	38915000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1937637
+SHUFFLE	COMPRESS_BYTE_COUNT	563282
+SHUFFLE	COPY_MAP_DATA	29284000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1886881
+SHUFFLE	COMPRESS_BYTE_COUNT	564252
+SHUFFLE	COPY_MAP_DATA	100988000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2037506
+SHUFFLE	COMPRESS_BYTE_COUNT	562796
+SHUFFLE	COPY_MAP_DATA	32092000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2050289
+SHUFFLE	COMPRESS_BYTE_COUNT	577145
+SHUFFLE	COPY_MAP_DATA	146228000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1896753
+SHUFFLE	COMPRESS_BYTE_COUNT	563859
+SHUFFLE	COPY_MAP_DATA	80196000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1766385
+SHUFFLE	COMPRESS_BYTE_COUNT	480996
+SHUFFLE	COPY_MAP_DATA	183462000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2075724
+SHUFFLE	COMPRESS_BYTE_COUNT	560803
+SHUFFLE	COPY_MAP_DATA	31460000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1893576
+SHUFFLE	COMPRESS_BYTE_COUNT	556653
+SHUFFLE	COPY_MAP_DATA	55874000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1974288
+SHUFFLE	COMPRESS_BYTE_COUNT	568316
+SHUFFLE	COPY_MAP_DATA	68132000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1898505
+SHUFFLE	COMPRESS_BYTE_COUNT	548462
+SHUFFLE	COPY_MAP_DATA	84514000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1947355
+SHUFFLE	COMPRESS_BYTE_COUNT	548305
+SHUFFLE	COPY_MAP_DATA	305068000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2059690
+SHUFFLE	COMPRESS_BYTE_COUNT	549711
+SHUFFLE	COPY_MAP_DATA	49529000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1929404
+SHUFFLE	COMPRESS_BYTE_COUNT	564029
+SHUFFLE	COPY_MAP_DATA	600499000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1973583
+SHUFFLE	COMPRESS_BYTE_COUNT	544502
+SHUFFLE	COPY_MAP_DATA	114883000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1983496
+SHUFFLE	COMPRESS_BYTE_COUNT	550728
+SHUFFLE	COPY_MAP_DATA	33119000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2094182
+SHUFFLE	COMPRESS_BYTE_COUNT	575073
+SHUFFLE	COPY_MAP_DATA	56334000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2075474
+SHUFFLE	COMPRESS_BYTE_COUNT	553443
+SHUFFLE	COPY_MAP_DATA	29904000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1830463
+SHUFFLE	COMPRESS_BYTE_COUNT	535169
+SHUFFLE	COPY_MAP_DATA	42878000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1832421
+SHUFFLE	COMPRESS_BYTE_COUNT	552695
+SHUFFLE	COPY_MAP_DATA	200054000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1893449
+SHUFFLE	COMPRESS_BYTE_COUNT	560432
+SHUFFLE	COPY_MAP_DATA	30353000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1760144
+SHUFFLE	COMPRESS_BYTE_COUNT	528055
+SHUFFLE	COPY_MAP_DATA	27601000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1816098
+SHUFFLE	COMPRESS_BYTE_COUNT	543820
+SHUFFLE	COPY_MAP_DATA	29617000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1956690
+SHUFFLE	COMPRESS_BYTE_COUNT	563996
+SHUFFLE	COPY_MAP_DATA	60559000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1788605
+SHUFFLE	COMPRESS_BYTE_COUNT	537062
+SHUFFLE	COPY_MAP_DATA	102492000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1979024
+SHUFFLE	COMPRESS_BYTE_COUNT	569336
+SHUFFLE	COPY_MAP_DATA	31391000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1982287
+SHUFFLE	COMPRESS_BYTE_COUNT	567421
+SHUFFLE	COPY_MAP_DATA	31016000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1780232
+SHUFFLE	COMPRESS_BYTE_COUNT	532273
+SHUFFLE	COPY_MAP_DATA	30251000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1574013
+SHUFFLE	COMPRESS_BYTE_COUNT	465095
+SHUFFLE	COPY_MAP_DATA	25776000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1738204
+SHUFFLE	COMPRESS_BYTE_COUNT	532228
+SHUFFLE	COPY_MAP_DATA	544201000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1956833
+SHUFFLE	COMPRESS_BYTE_COUNT	567707
+SHUFFLE	COPY_MAP_DATA	46204000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1749403
+SHUFFLE	COMPRESS_BYTE_COUNT	534122
+SHUFFLE	COPY_MAP_DATA	101709000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1794699
+SHUFFLE	COMPRESS_BYTE_COUNT	542136
+SHUFFLE	COPY_MAP_DATA	27627000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1807328
+SHUFFLE	COMPRESS_BYTE_COUNT	545400
+SHUFFLE	COPY_MAP_DATA	414022000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1914854
+SHUFFLE	COMPRESS_BYTE_COUNT	560484
+SHUFFLE	COPY_MAP_DATA	357996000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1719003
+SHUFFLE	COMPRESS_BYTE_COUNT	434324
+SHUFFLE	COPY_MAP_DATA	312228000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1647807
+SHUFFLE	COMPRESS_BYTE_COUNT	482434
+SHUFFLE	COPY_MAP_DATA	62031000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1616592
+SHUFFLE	COMPRESS_BYTE_COUNT	487149
+SHUFFLE	COPY_MAP_DATA	300658000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1643918
+SHUFFLE	COMPRESS_BYTE_COUNT	477543
+SHUFFLE	COPY_MAP_DATA	26205000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1761919
+SHUFFLE	COMPRESS_BYTE_COUNT	500511
+SHUFFLE	COPY_MAP_DATA	29027000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1908402
+SHUFFLE	COMPRESS_BYTE_COUNT	536338
+SHUFFLE	COPY_MAP_DATA	921945000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1887219
+SHUFFLE	COMPRESS_BYTE_COUNT	524051
+SHUFFLE	COPY_MAP_DATA	3324802000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1823592
+SHUFFLE	COMPRESS_BYTE_COUNT	549321
+SHUFFLE	COPY_MAP_DATA	29738000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1821225
+SHUFFLE	COMPRESS_BYTE_COUNT	526176
+SHUFFLE	COPY_MAP_DATA	26796000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2025588
+SHUFFLE	COMPRESS_BYTE_COUNT	551485
+SHUFFLE	COPY_MAP_DATA	59314000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1884872
+SHUFFLE	COMPRESS_BYTE_COUNT	547956
+SHUFFLE	COPY_MAP_DATA	30719000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1751198
+SHUFFLE	COMPRESS_BYTE_COUNT	525861
+SHUFFLE	COPY_MAP_DATA	29988000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1680381
+SHUFFLE	COMPRESS_BYTE_COUNT	517348
+SHUFFLE	COPY_MAP_DATA	32288000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1592139
+SHUFFLE	COMPRESS_BYTE_COUNT	476110
+SHUFFLE	COPY_MAP_DATA	392904000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1644537
+SHUFFLE	COMPRESS_BYTE_COUNT	476506
+SHUFFLE	COPY_MAP_DATA	4336566000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1634924
+SHUFFLE	COMPRESS_BYTE_COUNT	482793
+SHUFFLE	COPY_MAP_DATA	2612904000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1631839
+SHUFFLE	COMPRESS_BYTE_COUNT	485789
+SHUFFLE	COPY_MAP_DATA	423604000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1844412
+SHUFFLE	COMPRESS_BYTE_COUNT	534840
+SHUFFLE	COPY_MAP_DATA	405705000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1666086
+SHUFFLE	COMPRESS_BYTE_COUNT	461950
+SHUFFLE	COPY_MAP_DATA	214042000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1443936
+SHUFFLE	COMPRESS_BYTE_COUNT	432456
+SHUFFLE	COPY_MAP_DATA	302833000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1658253
+SHUFFLE	COMPRESS_BYTE_COUNT	481577
+SHUFFLE	COPY_MAP_DATA	102032000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1738293
+SHUFFLE	COMPRESS_BYTE_COUNT	481899
+SHUFFLE	COPY_MAP_DATA	334542000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1984128
+SHUFFLE	COMPRESS_BYTE_COUNT	501033
+SHUFFLE	COPY_MAP_DATA	29141000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1552165
+SHUFFLE	COMPRESS_BYTE_COUNT	452844
+SHUFFLE	COPY_MAP_DATA	415892000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1804624
+SHUFFLE	COMPRESS_BYTE_COUNT	484966
+SHUFFLE	COPY_MAP_DATA	976415000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1533267
+SHUFFLE	COMPRESS_BYTE_COUNT	446475
+SHUFFLE	COPY_MAP_DATA	141399000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1577291
+SHUFFLE	COMPRESS_BYTE_COUNT	452900
+SHUFFLE	COPY_MAP_DATA	22958000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1592918
+SHUFFLE	COMPRESS_BYTE_COUNT	467611
+SHUFFLE	COPY_MAP_DATA	45374000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1908352
+SHUFFLE	COMPRESS_BYTE_COUNT	580857
+SHUFFLE	COPY_MAP_DATA	28490000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1602271
+SHUFFLE	COMPRESS_BYTE_COUNT	457541
+SHUFFLE	COPY_MAP_DATA	43269000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1861912
+SHUFFLE	COMPRESS_BYTE_COUNT	578090
+SHUFFLE	COPY_MAP_DATA	88406000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1750037
+SHUFFLE	COMPRESS_BYTE_COUNT	485220
+SHUFFLE	COPY_MAP_DATA	30668000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1636109
+SHUFFLE	COMPRESS_BYTE_COUNT	478651
+SHUFFLE	COPY_MAP_DATA	339432000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1805227
+SHUFFLE	COMPRESS_BYTE_COUNT	523287
+SHUFFLE	COPY_MAP_DATA	1491229000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1994361
+SHUFFLE	COMPRESS_BYTE_COUNT	505149
+SHUFFLE	COPY_MAP_DATA	135973000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1659830
+SHUFFLE	COMPRESS_BYTE_COUNT	480869
+SHUFFLE	COPY_MAP_DATA	100219000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1787041
+SHUFFLE	COMPRESS_BYTE_COUNT	532996
+SHUFFLE	COPY_MAP_DATA	3391965000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2000624
+SHUFFLE	COMPRESS_BYTE_COUNT	505576
+SHUFFLE	COPY_MAP_DATA	86029000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1588236
+SHUFFLE	COMPRESS_BYTE_COUNT	469866
+SHUFFLE	COPY_MAP_DATA	47236000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1759721
+SHUFFLE	COMPRESS_BYTE_COUNT	541333
+SHUFFLE	COPY_MAP_DATA	215692000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	846732
+SHUFFLE	COMPRESS_BYTE_COUNT	236344
+SHUFFLE	COPY_MAP_DATA	142878000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1450210
+SHUFFLE	COMPRESS_BYTE_COUNT	432419
+SHUFFLE	COPY_MAP_DATA	704678000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1567859
+SHUFFLE	COMPRESS_BYTE_COUNT	449083
+SHUFFLE	COPY_MAP_DATA	26582000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1574689
+SHUFFLE	COMPRESS_BYTE_COUNT	451226
+SHUFFLE	COPY_MAP_DATA	92745000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1006791
+SHUFFLE	COMPRESS_BYTE_COUNT	265994
+SHUFFLE	COPY_MAP_DATA	6350329000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	919509
+SHUFFLE	COMPRESS_BYTE_COUNT	266698
+SHUFFLE	COPY_MAP_DATA	16671000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	846878
+SHUFFLE	COMPRESS_BYTE_COUNT	244169
+SHUFFLE	COPY_MAP_DATA	15546000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	806870
+SHUFFLE	COMPRESS_BYTE_COUNT	238208
+SHUFFLE	COPY_MAP_DATA	13952000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1011360
+SHUFFLE	COMPRESS_BYTE_COUNT	292192
+SHUFFLE	COPY_MAP_DATA	19398000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1687037
+SHUFFLE	COMPRESS_BYTE_COUNT	477613
+SHUFFLE	COPY_MAP_DATA	26039000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1923697
+SHUFFLE	COMPRESS_BYTE_COUNT	491390
+SHUFFLE	COPY_MAP_DATA	188323000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1415235
+SHUFFLE	COMPRESS_BYTE_COUNT	424301
+SHUFFLE	COPY_MAP_DATA	4964185000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	887218
+SHUFFLE	COMPRESS_BYTE_COUNT	246529
+SHUFFLE	COPY_MAP_DATA	14872000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1718417
+SHUFFLE	COMPRESS_BYTE_COUNT	476378
+SHUFFLE	COPY_MAP_DATA	261072000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1637534
+SHUFFLE	COMPRESS_BYTE_COUNT	483429
+SHUFFLE	COPY_MAP_DATA	24642000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1431100
+SHUFFLE	COMPRESS_BYTE_COUNT	414582
+SHUFFLE	COPY_MAP_DATA	82089000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1587098
+SHUFFLE	COMPRESS_BYTE_COUNT	473103
+SHUFFLE	COPY_MAP_DATA	23533000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1043166
+SHUFFLE	COMPRESS_BYTE_COUNT	291071
+SHUFFLE	COPY_MAP_DATA	184604000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1549856
+SHUFFLE	COMPRESS_BYTE_COUNT	448181
+SHUFFLE	COPY_MAP_DATA	274684000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1538812
+SHUFFLE	COMPRESS_BYTE_COUNT	443659
+SHUFFLE	COPY_MAP_DATA	25320000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1804307
+SHUFFLE	COMPRESS_BYTE_COUNT	542123
+SHUFFLE	COPY_MAP_DATA	27720000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	963131
+SHUFFLE	COMPRESS_BYTE_COUNT	285380
+SHUFFLE	COPY_MAP_DATA	322874000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2125073
+SHUFFLE	COMPRESS_BYTE_COUNT	547001
+SHUFFLE	COPY_MAP_DATA	28579000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	949402
+SHUFFLE	COMPRESS_BYTE_COUNT	277369
+SHUFFLE	COPY_MAP_DATA	17495000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1080654
+SHUFFLE	COMPRESS_BYTE_COUNT	294759
+SHUFFLE	COPY_MAP_DATA	18553000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1626597
+SHUFFLE	COMPRESS_BYTE_COUNT	496633
+SHUFFLE	COPY_MAP_DATA	26332000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	962225
+SHUFFLE	COMPRESS_BYTE_COUNT	282801
+SHUFFLE	COPY_MAP_DATA	396489000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1783239
+SHUFFLE	COMPRESS_BYTE_COUNT	488373
+SHUFFLE	COPY_MAP_DATA	162898000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1337757
+SHUFFLE	COMPRESS_BYTE_COUNT	315701
+SHUFFLE	COPY_MAP_DATA	35402000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1669591
+SHUFFLE	COMPRESS_BYTE_COUNT	475613
+SHUFFLE	COPY_MAP_DATA	312618000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1534702
+SHUFFLE	COMPRESS_BYTE_COUNT	459139
+SHUFFLE	COPY_MAP_DATA	26372000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	999415
+SHUFFLE	COMPRESS_BYTE_COUNT	291366
+SHUFFLE	COPY_MAP_DATA	332878000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1796878
+SHUFFLE	COMPRESS_BYTE_COUNT	530651
+SHUFFLE	COPY_MAP_DATA	1344606000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2023284
+SHUFFLE	COMPRESS_BYTE_COUNT	515453
+SHUFFLE	COPY_MAP_DATA	1814518000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	989619
+SHUFFLE	COMPRESS_BYTE_COUNT	290157
+SHUFFLE	COPY_MAP_DATA	15483000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	931783
+SHUFFLE	COMPRESS_BYTE_COUNT	290140
+SHUFFLE	COPY_MAP_DATA	1008781000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1003957
+SHUFFLE	COMPRESS_BYTE_COUNT	298706
+SHUFFLE	COPY_MAP_DATA	3718064000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	982278
+SHUFFLE	COMPRESS_BYTE_COUNT	293849
+SHUFFLE	COPY_MAP_DATA	108598000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	986307
+SHUFFLE	COMPRESS_BYTE_COUNT	288066
+SHUFFLE	COPY_MAP_DATA	31576000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1004044
+SHUFFLE	COMPRESS_BYTE_COUNT	297684
+SHUFFLE	COPY_MAP_DATA	81427000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	963417
+SHUFFLE	COMPRESS_BYTE_COUNT	289098
+SHUFFLE	COPY_MAP_DATA	19616000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	888008
+SHUFFLE	COMPRESS_BYTE_COUNT	258902
+SHUFFLE	COPY_MAP_DATA	36071000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1032310
+SHUFFLE	COMPRESS_BYTE_COUNT	295593
+SHUFFLE	COPY_MAP_DATA	17998000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	984083
+SHUFFLE	COMPRESS_BYTE_COUNT	290495
+SHUFFLE	COPY_MAP_DATA	17470000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	957949
+SHUFFLE	COMPRESS_BYTE_COUNT	285951
+SHUFFLE	COPY_MAP_DATA	16879000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	969910
+SHUFFLE	COMPRESS_BYTE_COUNT	294912
+SHUFFLE	COPY_MAP_DATA	17378000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1003369
+SHUFFLE	COMPRESS_BYTE_COUNT	299571
+SHUFFLE	COPY_MAP_DATA	17957000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	980848
+SHUFFLE	COMPRESS_BYTE_COUNT	293041
+SHUFFLE	COPY_MAP_DATA	16780000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1079811
+SHUFFLE	COMPRESS_BYTE_COUNT	294201
+SHUFFLE	COPY_MAP_DATA	4342823000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	995915
+SHUFFLE	COMPRESS_BYTE_COUNT	292659
+SHUFFLE	COPY_MAP_DATA	25140000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	980772
+SHUFFLE	COMPRESS_BYTE_COUNT	294047
+SHUFFLE	COPY_MAP_DATA	35385000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	952291
+SHUFFLE	COMPRESS_BYTE_COUNT	296604
+SHUFFLE	COPY_MAP_DATA	2412577000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	966724
+SHUFFLE	COMPRESS_BYTE_COUNT	282884
+SHUFFLE	COPY_MAP_DATA	67166000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1060672
+SHUFFLE	COMPRESS_BYTE_COUNT	315728
+SHUFFLE	COPY_MAP_DATA	17113000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	922762
+SHUFFLE	COMPRESS_BYTE_COUNT	275106
+SHUFFLE	COPY_MAP_DATA	18826000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	982607
+SHUFFLE	COMPRESS_BYTE_COUNT	296513
+SHUFFLE	COPY_MAP_DATA	477434000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	993518
+SHUFFLE	COMPRESS_BYTE_COUNT	302474
+SHUFFLE	COPY_MAP_DATA	25565000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1090227
+SHUFFLE	COMPRESS_BYTE_COUNT	305578
+SHUFFLE	COPY_MAP_DATA	112135000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	979374
+SHUFFLE	COMPRESS_BYTE_COUNT	299991
+SHUFFLE	COPY_MAP_DATA	85596000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	959764
+SHUFFLE	COMPRESS_BYTE_COUNT	293495
+SHUFFLE	COPY_MAP_DATA	18049000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	969642
+SHUFFLE	COMPRESS_BYTE_COUNT	296223
+SHUFFLE	COPY_MAP_DATA	273030000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	967239
+SHUFFLE	COMPRESS_BYTE_COUNT	298349
+SHUFFLE	COPY_MAP_DATA	17816000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1005389
+SHUFFLE	COMPRESS_BYTE_COUNT	297628
+SHUFFLE	COPY_MAP_DATA	19664000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	954706
+SHUFFLE	COMPRESS_BYTE_COUNT	295344
+SHUFFLE	COPY_MAP_DATA	16478000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1003762
+SHUFFLE	COMPRESS_BYTE_COUNT	298198
+SHUFFLE	COPY_MAP_DATA	664526000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	989408
+SHUFFLE	COMPRESS_BYTE_COUNT	289387
+SHUFFLE	COPY_MAP_DATA	30990000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	976013
+SHUFFLE	COMPRESS_BYTE_COUNT	297727
+SHUFFLE	COPY_MAP_DATA	165114000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	976784
+SHUFFLE	COMPRESS_BYTE_COUNT	286576
+SHUFFLE	COPY_MAP_DATA	55953000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	957870
+SHUFFLE	COMPRESS_BYTE_COUNT	298040
+SHUFFLE	COPY_MAP_DATA	612244000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	917984
+SHUFFLE	COMPRESS_BYTE_COUNT	289163
+SHUFFLE	COPY_MAP_DATA	17261000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	978356
+SHUFFLE	COMPRESS_BYTE_COUNT	267548
+SHUFFLE	COPY_MAP_DATA	16697000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	925152
+SHUFFLE	COMPRESS_BYTE_COUNT	287940
+SHUFFLE	COPY_MAP_DATA	17572000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1073385
+SHUFFLE	COMPRESS_BYTE_COUNT	289856
+SHUFFLE	COPY_MAP_DATA	17644000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	960097
+SHUFFLE	COMPRESS_BYTE_COUNT	295629
+SHUFFLE	COPY_MAP_DATA	171978000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	977626
+SHUFFLE	COMPRESS_BYTE_COUNT	295470
+SHUFFLE	COPY_MAP_DATA	83853000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	942049
+SHUFFLE	COMPRESS_BYTE_COUNT	294397
+SHUFFLE	COPY_MAP_DATA	464494000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	945010
+SHUFFLE	COMPRESS_BYTE_COUNT	283453
+SHUFFLE	COPY_MAP_DATA	69294000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1024410
+SHUFFLE	COMPRESS_BYTE_COUNT	292301
+SHUFFLE	COPY_MAP_DATA	307527000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	986782
+SHUFFLE	COMPRESS_BYTE_COUNT	295538
+SHUFFLE	COPY_MAP_DATA	23464000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	997383
+SHUFFLE	COMPRESS_BYTE_COUNT	296596
+SHUFFLE	COPY_MAP_DATA	15891000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	926850
+SHUFFLE	COMPRESS_BYTE_COUNT	282992
+SHUFFLE	COPY_MAP_DATA	16228000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	977542
+SHUFFLE	COMPRESS_BYTE_COUNT	292451
+SHUFFLE	COPY_MAP_DATA	117063000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1013098
+SHUFFLE	COMPRESS_BYTE_COUNT	295754
+SHUFFLE	COPY_MAP_DATA	16681000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	959258
+SHUFFLE	COMPRESS_BYTE_COUNT	289222
+SHUFFLE	COPY_MAP_DATA	17568000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	930519
+SHUFFLE	COMPRESS_BYTE_COUNT	292658
+SHUFFLE	COPY_MAP_DATA	171288000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	981643
+SHUFFLE	COMPRESS_BYTE_COUNT	297237
+SHUFFLE	COPY_MAP_DATA	17914000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	929013
+SHUFFLE	COMPRESS_BYTE_COUNT	289059
+SHUFFLE	COPY_MAP_DATA	17326000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	888546
+SHUFFLE	COMPRESS_BYTE_COUNT	279506
+SHUFFLE	COPY_MAP_DATA	249311000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1000900
+SHUFFLE	COMPRESS_BYTE_COUNT	294249
+SHUFFLE	COPY_MAP_DATA	16312000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	976900
+SHUFFLE	COMPRESS_BYTE_COUNT	293005
+SHUFFLE	COPY_MAP_DATA	17310000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	981896
+SHUFFLE	COMPRESS_BYTE_COUNT	300436
+SHUFFLE	COPY_MAP_DATA	298029000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	921346
+SHUFFLE	COMPRESS_BYTE_COUNT	284961
+SHUFFLE	COPY_MAP_DATA	725530000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	855231
+SHUFFLE	COMPRESS_BYTE_COUNT	270483
+SHUFFLE	COPY_MAP_DATA	27012000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	909231
+SHUFFLE	COMPRESS_BYTE_COUNT	285620
+SHUFFLE	COPY_MAP_DATA	15654000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	889346
+SHUFFLE	COMPRESS_BYTE_COUNT	276600
+SHUFFLE	COPY_MAP_DATA	17387000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	978038
+SHUFFLE	COMPRESS_BYTE_COUNT	290655
+SHUFFLE	COPY_MAP_DATA	221624000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	972232
+SHUFFLE	COMPRESS_BYTE_COUNT	294957
+SHUFFLE	COPY_MAP_DATA	113909000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	962112
+SHUFFLE	COMPRESS_BYTE_COUNT	300501
+SHUFFLE	COPY_MAP_DATA	24175000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	883828
+SHUFFLE	COMPRESS_BYTE_COUNT	276383
+SHUFFLE	COPY_MAP_DATA	278130000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	885455
+SHUFFLE	COMPRESS_BYTE_COUNT	272978
+SHUFFLE	COPY_MAP_DATA	23753000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	879376
+SHUFFLE	COMPRESS_BYTE_COUNT	273785
+SHUFFLE	COPY_MAP_DATA	47034000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	979209
+SHUFFLE	COMPRESS_BYTE_COUNT	294762
+SHUFFLE	COPY_MAP_DATA	72697000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	899312
+SHUFFLE	COMPRESS_BYTE_COUNT	279952
+SHUFFLE	COPY_MAP_DATA	30854000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	909407
+SHUFFLE	COMPRESS_BYTE_COUNT	280823
+SHUFFLE	COPY_MAP_DATA	405322000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	907608
+SHUFFLE	COMPRESS_BYTE_COUNT	288339
+SHUFFLE	COPY_MAP_DATA	15631000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	936818
+SHUFFLE	COMPRESS_BYTE_COUNT	292699
+SHUFFLE	COPY_MAP_DATA	16558000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	934193
+SHUFFLE	COMPRESS_BYTE_COUNT	293803
+SHUFFLE	COPY_MAP_DATA	15784000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	887093
+SHUFFLE	COMPRESS_BYTE_COUNT	275364
+SHUFFLE	COPY_MAP_DATA	284623000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	943877
+SHUFFLE	COMPRESS_BYTE_COUNT	293746
+SHUFFLE	COPY_MAP_DATA	16550000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	938001
+SHUFFLE	COMPRESS_BYTE_COUNT	291519
+SHUFFLE	COPY_MAP_DATA	17404000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	892463
+SHUFFLE	COMPRESS_BYTE_COUNT	282197
+SHUFFLE	COPY_MAP_DATA	45996000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	885581
+SHUFFLE	COMPRESS_BYTE_COUNT	271535
+SHUFFLE	COPY_MAP_DATA	200227000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	907864
+SHUFFLE	COMPRESS_BYTE_COUNT	282368
+SHUFFLE	COPY_MAP_DATA	542865000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	886324
+SHUFFLE	COMPRESS_BYTE_COUNT	269260
+SHUFFLE	COPY_MAP_DATA	133403000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	867055
+SHUFFLE	COMPRESS_BYTE_COUNT	252158
+SHUFFLE	COPY_MAP_DATA	536269000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	898449
+SHUFFLE	COMPRESS_BYTE_COUNT	279663
+SHUFFLE	COPY_MAP_DATA	32370000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	841793
+SHUFFLE	COMPRESS_BYTE_COUNT	266263
+SHUFFLE	COPY_MAP_DATA	15647000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	817512
+SHUFFLE	COMPRESS_BYTE_COUNT	250188
+SHUFFLE	COPY_MAP_DATA	13658000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	930444
+SHUFFLE	COMPRESS_BYTE_COUNT	287745
+SHUFFLE	COPY_MAP_DATA	18106000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	938533
+SHUFFLE	COMPRESS_BYTE_COUNT	286831
+SHUFFLE	COPY_MAP_DATA	197483000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	845743
+SHUFFLE	COMPRESS_BYTE_COUNT	269992
+SHUFFLE	COPY_MAP_DATA	29780000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	860834
+SHUFFLE	COMPRESS_BYTE_COUNT	267517
+SHUFFLE	COPY_MAP_DATA	20833000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	872370
+SHUFFLE	COMPRESS_BYTE_COUNT	270162
+SHUFFLE	COPY_MAP_DATA	4225129000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	882694
+SHUFFLE	COMPRESS_BYTE_COUNT	258783
+SHUFFLE	COPY_MAP_DATA	395748000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	943417
+SHUFFLE	COMPRESS_BYTE_COUNT	289349
+SHUFFLE	COPY_MAP_DATA	66813000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	885593
+SHUFFLE	COMPRESS_BYTE_COUNT	278175
+SHUFFLE	COPY_MAP_DATA	1691625000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	842485
+SHUFFLE	COMPRESS_BYTE_COUNT	253602
+SHUFFLE	COPY_MAP_DATA	580818000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	825152
+SHUFFLE	COMPRESS_BYTE_COUNT	266540
+SHUFFLE	COPY_MAP_DATA	1133283000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	774595
+SHUFFLE	COMPRESS_BYTE_COUNT	242573
+SHUFFLE	COPY_MAP_DATA	481255000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1082173
+SHUFFLE	COMPRESS_BYTE_COUNT	289323
+SHUFFLE	COPY_MAP_DATA	958001000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	811283
+SHUFFLE	COMPRESS_BYTE_COUNT	245710
+SHUFFLE	COPY_MAP_DATA	503661000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	831327
+SHUFFLE	COMPRESS_BYTE_COUNT	253834
+SHUFFLE	COPY_MAP_DATA	14373000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	850956
+SHUFFLE	COMPRESS_BYTE_COUNT	268587
+SHUFFLE	COPY_MAP_DATA	96678000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	828658
+SHUFFLE	COMPRESS_BYTE_COUNT	259264
+SHUFFLE	COPY_MAP_DATA	33964000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	822390
+SHUFFLE	COMPRESS_BYTE_COUNT	249602
+SHUFFLE	COPY_MAP_DATA	105319000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1019484
+SHUFFLE	COMPRESS_BYTE_COUNT	292622
+SHUFFLE	COPY_MAP_DATA	467941000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	888920
+SHUFFLE	COMPRESS_BYTE_COUNT	262310
+SHUFFLE	COPY_MAP_DATA	63825000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	817546
+SHUFFLE	COMPRESS_BYTE_COUNT	250697
+SHUFFLE	COPY_MAP_DATA	175634000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	838281
+SHUFFLE	COMPRESS_BYTE_COUNT	260677
+SHUFFLE	COPY_MAP_DATA	50420000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	832405
+SHUFFLE	COMPRESS_BYTE_COUNT	245581
+SHUFFLE	COPY_MAP_DATA	24297000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	872068
+SHUFFLE	COMPRESS_BYTE_COUNT	261317
+SHUFFLE	COPY_MAP_DATA	199037000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	894866
+SHUFFLE	COMPRESS_BYTE_COUNT	266761
+SHUFFLE	COPY_MAP_DATA	116158000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	799470
+SHUFFLE	COMPRESS_BYTE_COUNT	244183
+SHUFFLE	COPY_MAP_DATA	247353000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	755239
+SHUFFLE	COMPRESS_BYTE_COUNT	233723
+SHUFFLE	COPY_MAP_DATA	164341000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	958090
+SHUFFLE	COMPRESS_BYTE_COUNT	284017
+SHUFFLE	COPY_MAP_DATA	347326000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	746367
+SHUFFLE	COMPRESS_BYTE_COUNT	199839
+SHUFFLE	COPY_MAP_DATA	6233487000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	808237
+SHUFFLE	COMPRESS_BYTE_COUNT	250025
+SHUFFLE	COPY_MAP_DATA	223909000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	743547
+SHUFFLE	COMPRESS_BYTE_COUNT	233089
+SHUFFLE	COPY_MAP_DATA	14279000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	825850
+SHUFFLE	COMPRESS_BYTE_COUNT	252966
+SHUFFLE	COPY_MAP_DATA	131376000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	768260
+SHUFFLE	COMPRESS_BYTE_COUNT	233032
+SHUFFLE	COPY_MAP_DATA	71123000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	825104
+SHUFFLE	COMPRESS_BYTE_COUNT	245461
+SHUFFLE	COPY_MAP_DATA	16792000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	805382
+SHUFFLE	COMPRESS_BYTE_COUNT	247281
+SHUFFLE	COPY_MAP_DATA	241922000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	813355
+SHUFFLE	COMPRESS_BYTE_COUNT	243892
+SHUFFLE	COPY_MAP_DATA	218779000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	827929
+SHUFFLE	COMPRESS_BYTE_COUNT	250935
+SHUFFLE	COPY_MAP_DATA	56769000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	820279
+SHUFFLE	COMPRESS_BYTE_COUNT	249878
+SHUFFLE	COPY_MAP_DATA	361887000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	741676
+SHUFFLE	COMPRESS_BYTE_COUNT	228360
+SHUFFLE	COPY_MAP_DATA	15545000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	787936
+SHUFFLE	COMPRESS_BYTE_COUNT	243697
+SHUFFLE	COPY_MAP_DATA	154556000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	801435
+SHUFFLE	COMPRESS_BYTE_COUNT	240676
+SHUFFLE	COPY_MAP_DATA	30301000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	800375
+SHUFFLE	COMPRESS_BYTE_COUNT	238978
+SHUFFLE	COPY_MAP_DATA	14313000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	942777
+SHUFFLE	COMPRESS_BYTE_COUNT	278378
+SHUFFLE	COPY_MAP_DATA	966177000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	862452
+SHUFFLE	COMPRESS_BYTE_COUNT	262984
+SHUFFLE	COPY_MAP_DATA	14599000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	836683
+SHUFFLE	COMPRESS_BYTE_COUNT	250334
+SHUFFLE	COPY_MAP_DATA	865401000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	766010
+SHUFFLE	COMPRESS_BYTE_COUNT	222238
+SHUFFLE	COPY_MAP_DATA	13078000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	836164
+SHUFFLE	COMPRESS_BYTE_COUNT	241483
+SHUFFLE	COPY_MAP_DATA	753546000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	886057
+SHUFFLE	COMPRESS_BYTE_COUNT	249577
+SHUFFLE	COPY_MAP_DATA	31105000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	834415
+SHUFFLE	COMPRESS_BYTE_COUNT	259502
+SHUFFLE	COPY_MAP_DATA	195224000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1164807
+SHUFFLE	COMPRESS_BYTE_COUNT	364423
+SHUFFLE	COPY_MAP_DATA	60571000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	819933
+SHUFFLE	COMPRESS_BYTE_COUNT	235100
+SHUFFLE	COPY_MAP_DATA	16041000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	775741
+SHUFFLE	COMPRESS_BYTE_COUNT	237811
+SHUFFLE	COPY_MAP_DATA	72369000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	803599
+SHUFFLE	COMPRESS_BYTE_COUNT	244973
+SHUFFLE	COPY_MAP_DATA	15071000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1007944
+SHUFFLE	COMPRESS_BYTE_COUNT	278583
+SHUFFLE	COPY_MAP_DATA	311892000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	783907
+SHUFFLE	COMPRESS_BYTE_COUNT	236097
+SHUFFLE	COPY_MAP_DATA	15007000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1085299
+SHUFFLE	COMPRESS_BYTE_COUNT	276618
+SHUFFLE	COPY_MAP_DATA	17283000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	756237
+SHUFFLE	COMPRESS_BYTE_COUNT	233519
+SHUFFLE	COPY_MAP_DATA	14391000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	829924
+SHUFFLE	COMPRESS_BYTE_COUNT	238312
+SHUFFLE	COPY_MAP_DATA	13313000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	781449
+SHUFFLE	COMPRESS_BYTE_COUNT	232909
+SHUFFLE	COPY_MAP_DATA	13000000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	918016
+SHUFFLE	COMPRESS_BYTE_COUNT	247822
+SHUFFLE	COPY_MAP_DATA	394346000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	927872
+SHUFFLE	COMPRESS_BYTE_COUNT	272122
+SHUFFLE	COPY_MAP_DATA	156108000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	863982
+SHUFFLE	COMPRESS_BYTE_COUNT	251026
+SHUFFLE	COPY_MAP_DATA	114526000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1029981
+SHUFFLE	COMPRESS_BYTE_COUNT	288948
+SHUFFLE	COPY_MAP_DATA	3425537000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	765069
+SHUFFLE	COMPRESS_BYTE_COUNT	227350
+SHUFFLE	COPY_MAP_DATA	129141000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	797426
+SHUFFLE	COMPRESS_BYTE_COUNT	243251
+SHUFFLE	COPY_MAP_DATA	265777000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	760660
+SHUFFLE	COMPRESS_BYTE_COUNT	236592
+SHUFFLE	COPY_MAP_DATA	74178000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	782856
+SHUFFLE	COMPRESS_BYTE_COUNT	237206
+SHUFFLE	COPY_MAP_DATA	53423000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	898831
+SHUFFLE	COMPRESS_BYTE_COUNT	244004
+SHUFFLE	COPY_MAP_DATA	167718000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	732894
+SHUFFLE	COMPRESS_BYTE_COUNT	222583
+SHUFFLE	COPY_MAP_DATA	13948000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	806041
+SHUFFLE	COMPRESS_BYTE_COUNT	238897
+SHUFFLE	COPY_MAP_DATA	14101000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	754173
+SHUFFLE	COMPRESS_BYTE_COUNT	229134
+SHUFFLE	COPY_MAP_DATA	1705530000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	786412
+SHUFFLE	COMPRESS_BYTE_COUNT	232172
+SHUFFLE	COPY_MAP_DATA	452554000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	796232
+SHUFFLE	COMPRESS_BYTE_COUNT	235087
+SHUFFLE	COPY_MAP_DATA	15294000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	779893
+SHUFFLE	COMPRESS_BYTE_COUNT	234512
+SHUFFLE	COPY_MAP_DATA	530298000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	846692
+SHUFFLE	COMPRESS_BYTE_COUNT	248128
+SHUFFLE	COPY_MAP_DATA	62058000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	857554
+SHUFFLE	COMPRESS_BYTE_COUNT	246686
+SHUFFLE	COPY_MAP_DATA	102078000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1053677
+SHUFFLE	COMPRESS_BYTE_COUNT	341933
+SHUFFLE	COPY_MAP_DATA	52431000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	879277
+SHUFFLE	COMPRESS_BYTE_COUNT	261540
+SHUFFLE	COPY_MAP_DATA	1338925000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	769846
+SHUFFLE	COMPRESS_BYTE_COUNT	229845
+SHUFFLE	COPY_MAP_DATA	32795000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	866265
+SHUFFLE	COMPRESS_BYTE_COUNT	262000
+SHUFFLE	COPY_MAP_DATA	226168000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	702262
+SHUFFLE	COMPRESS_BYTE_COUNT	218707
+SHUFFLE	COPY_MAP_DATA	661910000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	829154
+SHUFFLE	COMPRESS_BYTE_COUNT	254060
+SHUFFLE	COPY_MAP_DATA	1740992000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1153934
+SHUFFLE	COMPRESS_BYTE_COUNT	275509
+SHUFFLE	COPY_MAP_DATA	16708000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	879939
+SHUFFLE	COMPRESS_BYTE_COUNT	261356
+SHUFFLE	COPY_MAP_DATA	15275000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	743954
+SHUFFLE	COMPRESS_BYTE_COUNT	225654
+SHUFFLE	COPY_MAP_DATA	13173000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	754216
+SHUFFLE	COMPRESS_BYTE_COUNT	232505
+SHUFFLE	COPY_MAP_DATA	13375000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	860013
+SHUFFLE	COMPRESS_BYTE_COUNT	243963
+SHUFFLE	COPY_MAP_DATA	14686000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	984693
+SHUFFLE	COMPRESS_BYTE_COUNT	268407
+SHUFFLE	COPY_MAP_DATA	15629000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	809607
+SHUFFLE	COMPRESS_BYTE_COUNT	249050
+SHUFFLE	COPY_MAP_DATA	15059000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	858406
+SHUFFLE	COMPRESS_BYTE_COUNT	250755
+SHUFFLE	COPY_MAP_DATA	311135000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	797165
+SHUFFLE	COMPRESS_BYTE_COUNT	240604
+SHUFFLE	COPY_MAP_DATA	14275000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	926662
+SHUFFLE	COMPRESS_BYTE_COUNT	270354
+SHUFFLE	COPY_MAP_DATA	15740000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1171973
+SHUFFLE	COMPRESS_BYTE_COUNT	271370
+SHUFFLE	COPY_MAP_DATA	9325265000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	747603
+SHUFFLE	COMPRESS_BYTE_COUNT	233190
+SHUFFLE	COPY_MAP_DATA	14285000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1095094
+SHUFFLE	COMPRESS_BYTE_COUNT	274790
+SHUFFLE	COPY_MAP_DATA	396651000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	990827
+SHUFFLE	COMPRESS_BYTE_COUNT	261713
+SHUFFLE	COPY_MAP_DATA	109009000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	775537
+SHUFFLE	COMPRESS_BYTE_COUNT	236012
+SHUFFLE	COPY_MAP_DATA	211191000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	791415
+SHUFFLE	COMPRESS_BYTE_COUNT	232596
+SHUFFLE	COPY_MAP_DATA	14753000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1032870
+SHUFFLE	COMPRESS_BYTE_COUNT	319617
+SHUFFLE	COPY_MAP_DATA	17027000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	687148
+SHUFFLE	COMPRESS_BYTE_COUNT	203218
+SHUFFLE	COPY_MAP_DATA	12885000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	694973
+SHUFFLE	COMPRESS_BYTE_COUNT	214100
+SHUFFLE	COPY_MAP_DATA	19308000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	757646
+SHUFFLE	COMPRESS_BYTE_COUNT	226648
+SHUFFLE	COPY_MAP_DATA	15851000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	740649
+SHUFFLE	COMPRESS_BYTE_COUNT	175107
+SHUFFLE	COPY_MAP_DATA	20909000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	811563
+SHUFFLE	COMPRESS_BYTE_COUNT	253465
+SHUFFLE	COPY_MAP_DATA	14853000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	829485
+SHUFFLE	COMPRESS_BYTE_COUNT	246869
+SHUFFLE	COPY_MAP_DATA	16478000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	754216
+SHUFFLE	COMPRESS_BYTE_COUNT	232505
+SHUFFLE	COPY_MAP_DATA	39707000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	827027
+SHUFFLE	COMPRESS_BYTE_COUNT	243644
+SHUFFLE	COPY_MAP_DATA	13802000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	872428
+SHUFFLE	COMPRESS_BYTE_COUNT	249661
+SHUFFLE	COPY_MAP_DATA	15017000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	967726
+SHUFFLE	COMPRESS_BYTE_COUNT	290630
+SHUFFLE	COPY_MAP_DATA	18114000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1025595
+SHUFFLE	COMPRESS_BYTE_COUNT	279062
+SHUFFLE	COPY_MAP_DATA	47370000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	758443
+SHUFFLE	COMPRESS_BYTE_COUNT	228777
+SHUFFLE	COPY_MAP_DATA	14548000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	932872
+SHUFFLE	COMPRESS_BYTE_COUNT	246768
+SHUFFLE	COPY_MAP_DATA	14729000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	781898
+SHUFFLE	COMPRESS_BYTE_COUNT	245228
+SHUFFLE	COPY_MAP_DATA	14396000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	752806
+SHUFFLE	COMPRESS_BYTE_COUNT	226566
+SHUFFLE	COPY_MAP_DATA	13118000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	667634
+SHUFFLE	COMPRESS_BYTE_COUNT	205193
+SHUFFLE	COPY_MAP_DATA	52368000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	749587
+SHUFFLE	COMPRESS_BYTE_COUNT	219961
+SHUFFLE	COPY_MAP_DATA	38263000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	591392
+SHUFFLE	COMPRESS_BYTE_COUNT	124173
+SHUFFLE	COPY_MAP_DATA	8416000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1096624
+SHUFFLE	COMPRESS_BYTE_COUNT	262560
+SHUFFLE	COPY_MAP_DATA	29584000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	960253
+SHUFFLE	COMPRESS_BYTE_COUNT	313390
+SHUFFLE	COPY_MAP_DATA	17041000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	876437
+SHUFFLE	COMPRESS_BYTE_COUNT	284730
+SHUFFLE	COPY_MAP_DATA	15303000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	773745
+SHUFFLE	COMPRESS_BYTE_COUNT	230402
+SHUFFLE	COPY_MAP_DATA	13855000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	788318
+SHUFFLE	COMPRESS_BYTE_COUNT	247281
+SHUFFLE	COPY_MAP_DATA	15576000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	233429245000
+MERGE	READ_WRITE	230453196000
+MERGE	READ_WRITE_COUNT	2
+MERGE	COMBINE	0
+MERGE	WRITE	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	39239843000
+SORT	READ_WRITE	39116972000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	148085872
+REDUCE	SETUP	331000
+REDUCE	SETUP_MEM	148085872
+REDUCE	CLEANUP	76000
+REDUCE	CLEANUP_MEM	175014104
+REDUCE	TOTAL_RUN	105304990000
+REDUCE	READ	8702375000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	89717637000
+REDUCE	WRITE	29981457000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	71993380
+REDUCE	VALUE_BYTE_COUNT	65690040
+REDUCE	REDUCE_MEM	175014104
+REDUCE	WRITE	65681000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	777025267000
@@ -0,0 +1,1333 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1874218
+SHUFFLE	COMPRESS_BYTE_COUNT	563206
+SHUFFLE	COPY_MAP_DATA	83328000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2013140
+SHUFFLE	COMPRESS_BYTE_COUNT	572507
+SHUFFLE	COPY_MAP_DATA	35661000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1733517
+SHUFFLE	COMPRESS_BYTE_COUNT	477286
+SHUFFLE	COPY_MAP_DATA	491467000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2032304
+SHUFFLE	COMPRESS_BYTE_COUNT	567379
+SHUFFLE	COPY_MAP_DATA	36180000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1869634
+SHUFFLE	COMPRESS_BYTE_COUNT	551549
+SHUFFLE	COPY_MAP_DATA	50344000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1817187
+SHUFFLE	COMPRESS_BYTE_COUNT	546803
+SHUFFLE	COPY_MAP_DATA	32249000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1928135
+SHUFFLE	COMPRESS_BYTE_COUNT	532627
+SHUFFLE	COPY_MAP_DATA	104787000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1978849
+SHUFFLE	COMPRESS_BYTE_COUNT	556639
+SHUFFLE	COPY_MAP_DATA	93701000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1983247
+SHUFFLE	COMPRESS_BYTE_COUNT	564111
+SHUFFLE	COPY_MAP_DATA	94341000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1918447
+SHUFFLE	COMPRESS_BYTE_COUNT	555759
+SHUFFLE	COPY_MAP_DATA	73390000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2047817
+SHUFFLE	COMPRESS_BYTE_COUNT	583049
+SHUFFLE	COPY_MAP_DATA	48369000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1905006
+SHUFFLE	COMPRESS_BYTE_COUNT	482615
+SHUFFLE	COPY_MAP_DATA	85427000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1931661
+SHUFFLE	COMPRESS_BYTE_COUNT	578945
+SHUFFLE	COPY_MAP_DATA	210847000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2130244
+SHUFFLE	COMPRESS_BYTE_COUNT	570257
+SHUFFLE	COPY_MAP_DATA	34993000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1859469
+SHUFFLE	COMPRESS_BYTE_COUNT	553169
+SHUFFLE	COPY_MAP_DATA	105943000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2088954
+SHUFFLE	COMPRESS_BYTE_COUNT	580498
+SHUFFLE	COPY_MAP_DATA	35146000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1936408
+SHUFFLE	COMPRESS_BYTE_COUNT	569332
+SHUFFLE	COPY_MAP_DATA	130763000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1901145
+SHUFFLE	COMPRESS_BYTE_COUNT	569293
+SHUFFLE	COPY_MAP_DATA	34191000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1931112
+SHUFFLE	COMPRESS_BYTE_COUNT	571203
+SHUFFLE	COPY_MAP_DATA	207737000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1986008
+SHUFFLE	COMPRESS_BYTE_COUNT	566827
+SHUFFLE	COPY_MAP_DATA	50742000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1969253
+SHUFFLE	COMPRESS_BYTE_COUNT	570840
+SHUFFLE	COPY_MAP_DATA	36978000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1807548
+SHUFFLE	COMPRESS_BYTE_COUNT	486742
+SHUFFLE	COPY_MAP_DATA	38163000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1911143
+SHUFFLE	COMPRESS_BYTE_COUNT	565023
+SHUFFLE	COPY_MAP_DATA	68535000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2049332
+SHUFFLE	COMPRESS_BYTE_COUNT	547514
+SHUFFLE	COPY_MAP_DATA	129303000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2017686
+SHUFFLE	COMPRESS_BYTE_COUNT	567504
+SHUFFLE	COPY_MAP_DATA	77523000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2069830
+SHUFFLE	COMPRESS_BYTE_COUNT	556057
+SHUFFLE	COPY_MAP_DATA	89730000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2031973
+SHUFFLE	COMPRESS_BYTE_COUNT	557743
+SHUFFLE	COPY_MAP_DATA	127237000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2051444
+SHUFFLE	COMPRESS_BYTE_COUNT	557666
+SHUFFLE	COPY_MAP_DATA	47318000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2105284
+SHUFFLE	COMPRESS_BYTE_COUNT	562178
+SHUFFLE	COPY_MAP_DATA	31240000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2191429
+SHUFFLE	COMPRESS_BYTE_COUNT	589235
+SHUFFLE	COPY_MAP_DATA	80538000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1799154
+SHUFFLE	COMPRESS_BYTE_COUNT	534505
+SHUFFLE	COPY_MAP_DATA	176991000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1843400
+SHUFFLE	COMPRESS_BYTE_COUNT	555377
+SHUFFLE	COPY_MAP_DATA	54422000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1873424
+SHUFFLE	COMPRESS_BYTE_COUNT	556016
+SHUFFLE	COPY_MAP_DATA	31144000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1779442
+SHUFFLE	COMPRESS_BYTE_COUNT	523079
+SHUFFLE	COPY_MAP_DATA	186155000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1779443
+SHUFFLE	COMPRESS_BYTE_COUNT	535250
+SHUFFLE	COPY_MAP_DATA	493300000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1792321
+SHUFFLE	COMPRESS_BYTE_COUNT	544411
+SHUFFLE	COPY_MAP_DATA	32837000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1596541
+SHUFFLE	COMPRESS_BYTE_COUNT	463812
+SHUFFLE	COPY_MAP_DATA	243673000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1975101
+SHUFFLE	COMPRESS_BYTE_COUNT	576917
+SHUFFLE	COPY_MAP_DATA	41053000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1763002
+SHUFFLE	COMPRESS_BYTE_COUNT	537680
+SHUFFLE	COPY_MAP_DATA	57086000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1927217
+SHUFFLE	COMPRESS_BYTE_COUNT	568972
+SHUFFLE	COPY_MAP_DATA	3228642000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1815203
+SHUFFLE	COMPRESS_BYTE_COUNT	535651
+SHUFFLE	COPY_MAP_DATA	2177194000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1933636
+SHUFFLE	COMPRESS_BYTE_COUNT	564943
+SHUFFLE	COPY_MAP_DATA	33134000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1749925
+SHUFFLE	COMPRESS_BYTE_COUNT	533618
+SHUFFLE	COPY_MAP_DATA	28357000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1845901
+SHUFFLE	COMPRESS_BYTE_COUNT	551426
+SHUFFLE	COPY_MAP_DATA	217255000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1859212
+SHUFFLE	COMPRESS_BYTE_COUNT	554684
+SHUFFLE	COPY_MAP_DATA	30137000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1789347
+SHUFFLE	COMPRESS_BYTE_COUNT	508974
+SHUFFLE	COPY_MAP_DATA	29621000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1864208
+SHUFFLE	COMPRESS_BYTE_COUNT	552993
+SHUFFLE	COPY_MAP_DATA	39296000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1578137
+SHUFFLE	COMPRESS_BYTE_COUNT	474159
+SHUFFLE	COPY_MAP_DATA	309022000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1617630
+SHUFFLE	COMPRESS_BYTE_COUNT	486924
+SHUFFLE	COPY_MAP_DATA	27164000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1926546
+SHUFFLE	COMPRESS_BYTE_COUNT	567078
+SHUFFLE	COPY_MAP_DATA	29402000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2005252
+SHUFFLE	COMPRESS_BYTE_COUNT	542492
+SHUFFLE	COPY_MAP_DATA	143918000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1692160
+SHUFFLE	COMPRESS_BYTE_COUNT	431258
+SHUFFLE	COPY_MAP_DATA	25386000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1635906
+SHUFFLE	COMPRESS_BYTE_COUNT	474714
+SHUFFLE	COPY_MAP_DATA	26080000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1806554
+SHUFFLE	COMPRESS_BYTE_COUNT	549980
+SHUFFLE	COPY_MAP_DATA	31322000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1838941
+SHUFFLE	COMPRESS_BYTE_COUNT	531961
+SHUFFLE	COPY_MAP_DATA	76045000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1861118
+SHUFFLE	COMPRESS_BYTE_COUNT	527595
+SHUFFLE	COPY_MAP_DATA	237646000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1892176
+SHUFFLE	COMPRESS_BYTE_COUNT	548750
+SHUFFLE	COPY_MAP_DATA	31879000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1940698
+SHUFFLE	COMPRESS_BYTE_COUNT	560794
+SHUFFLE	COPY_MAP_DATA	61598000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1754586
+SHUFFLE	COMPRESS_BYTE_COUNT	528453
+SHUFFLE	COPY_MAP_DATA	297155000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1693728
+SHUFFLE	COMPRESS_BYTE_COUNT	518849
+SHUFFLE	COPY_MAP_DATA	28136000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1644092
+SHUFFLE	COMPRESS_BYTE_COUNT	479579
+SHUFFLE	COPY_MAP_DATA	107300000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1766999
+SHUFFLE	COMPRESS_BYTE_COUNT	499137
+SHUFFLE	COPY_MAP_DATA	38280000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1611547
+SHUFFLE	COMPRESS_BYTE_COUNT	482414
+SHUFFLE	COPY_MAP_DATA	140140000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1645768
+SHUFFLE	COMPRESS_BYTE_COUNT	484892
+SHUFFLE	COPY_MAP_DATA	28435000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1929678
+SHUFFLE	COMPRESS_BYTE_COUNT	491625
+SHUFFLE	COPY_MAP_DATA	30358000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1834375
+SHUFFLE	COMPRESS_BYTE_COUNT	534841
+SHUFFLE	COPY_MAP_DATA	96052000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1635296
+SHUFFLE	COMPRESS_BYTE_COUNT	481029
+SHUFFLE	COPY_MAP_DATA	830918000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1659902
+SHUFFLE	COMPRESS_BYTE_COUNT	479324
+SHUFFLE	COPY_MAP_DATA	80205000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1656404
+SHUFFLE	COMPRESS_BYTE_COUNT	484187
+SHUFFLE	COPY_MAP_DATA	138966000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1557762
+SHUFFLE	COMPRESS_BYTE_COUNT	454412
+SHUFFLE	COPY_MAP_DATA	46638000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1595668
+SHUFFLE	COMPRESS_BYTE_COUNT	468171
+SHUFFLE	COPY_MAP_DATA	26317000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1726424
+SHUFFLE	COMPRESS_BYTE_COUNT	489757
+SHUFFLE	COPY_MAP_DATA	41718000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1639500
+SHUFFLE	COMPRESS_BYTE_COUNT	462860
+SHUFFLE	COPY_MAP_DATA	44056000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1548032
+SHUFFLE	COMPRESS_BYTE_COUNT	450568
+SHUFFLE	COPY_MAP_DATA	104933000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1648874
+SHUFFLE	COMPRESS_BYTE_COUNT	473212
+SHUFFLE	COPY_MAP_DATA	130404000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1639362
+SHUFFLE	COMPRESS_BYTE_COUNT	459769
+SHUFFLE	COPY_MAP_DATA	103011000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1896524
+SHUFFLE	COMPRESS_BYTE_COUNT	577563
+SHUFFLE	COPY_MAP_DATA	1574269000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1628232
+SHUFFLE	COMPRESS_BYTE_COUNT	462841
+SHUFFLE	COPY_MAP_DATA	51304000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1682937
+SHUFFLE	COMPRESS_BYTE_COUNT	482016
+SHUFFLE	COPY_MAP_DATA	26476000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1582203
+SHUFFLE	COMPRESS_BYTE_COUNT	472726
+SHUFFLE	COPY_MAP_DATA	26064000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1910487
+SHUFFLE	COMPRESS_BYTE_COUNT	585953
+SHUFFLE	COPY_MAP_DATA	44190000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1811993
+SHUFFLE	COMPRESS_BYTE_COUNT	528521
+SHUFFLE	COPY_MAP_DATA	30117000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1691762
+SHUFFLE	COMPRESS_BYTE_COUNT	486770
+SHUFFLE	COPY_MAP_DATA	54639000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1793575
+SHUFFLE	COMPRESS_BYTE_COUNT	534869
+SHUFFLE	COPY_MAP_DATA	86542000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1698042
+SHUFFLE	COMPRESS_BYTE_COUNT	484666
+SHUFFLE	COPY_MAP_DATA	87257000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1577244
+SHUFFLE	COMPRESS_BYTE_COUNT	465649
+SHUFFLE	COPY_MAP_DATA	31793000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1738245
+SHUFFLE	COMPRESS_BYTE_COUNT	539465
+SHUFFLE	COPY_MAP_DATA	28487000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	873511
+SHUFFLE	COMPRESS_BYTE_COUNT	241265
+SHUFFLE	COPY_MAP_DATA	15787000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1463007
+SHUFFLE	COMPRESS_BYTE_COUNT	437923
+SHUFFLE	COPY_MAP_DATA	23716000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1486316
+SHUFFLE	COMPRESS_BYTE_COUNT	436379
+SHUFFLE	COPY_MAP_DATA	24877000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1590750
+SHUFFLE	COMPRESS_BYTE_COUNT	458518
+SHUFFLE	COPY_MAP_DATA	111439000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1031497
+SHUFFLE	COMPRESS_BYTE_COUNT	271593
+SHUFFLE	COPY_MAP_DATA	516768000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	947794
+SHUFFLE	COMPRESS_BYTE_COUNT	268529
+SHUFFLE	COPY_MAP_DATA	5305747000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	859756
+SHUFFLE	COMPRESS_BYTE_COUNT	247183
+SHUFFLE	COPY_MAP_DATA	15970000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1055901
+SHUFFLE	COMPRESS_BYTE_COUNT	300564
+SHUFFLE	COPY_MAP_DATA	52108000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1744512
+SHUFFLE	COMPRESS_BYTE_COUNT	478286
+SHUFFLE	COPY_MAP_DATA	291408000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	828777
+SHUFFLE	COMPRESS_BYTE_COUNT	242693
+SHUFFLE	COPY_MAP_DATA	33172000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	904742
+SHUFFLE	COMPRESS_BYTE_COUNT	251164
+SHUFFLE	COPY_MAP_DATA	17147000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1744218
+SHUFFLE	COMPRESS_BYTE_COUNT	474806
+SHUFFLE	COPY_MAP_DATA	134408000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1574279
+SHUFFLE	COMPRESS_BYTE_COUNT	467627
+SHUFFLE	COPY_MAP_DATA	26621000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1453430
+SHUFFLE	COMPRESS_BYTE_COUNT	432165
+SHUFFLE	COPY_MAP_DATA	41974000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1619758
+SHUFFLE	COMPRESS_BYTE_COUNT	485221
+SHUFFLE	COPY_MAP_DATA	126898000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1654145
+SHUFFLE	COMPRESS_BYTE_COUNT	452524
+SHUFFLE	COPY_MAP_DATA	191087000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1807579
+SHUFFLE	COMPRESS_BYTE_COUNT	486007
+SHUFFLE	COPY_MAP_DATA	265115000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1512085
+SHUFFLE	COMPRESS_BYTE_COUNT	445538
+SHUFFLE	COPY_MAP_DATA	44373000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1529745
+SHUFFLE	COMPRESS_BYTE_COUNT	443916
+SHUFFLE	COPY_MAP_DATA	45741000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1705411
+SHUFFLE	COMPRESS_BYTE_COUNT	535598
+SHUFFLE	COPY_MAP_DATA	43507000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1073673
+SHUFFLE	COMPRESS_BYTE_COUNT	297495
+SHUFFLE	COPY_MAP_DATA	531558000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1008780
+SHUFFLE	COMPRESS_BYTE_COUNT	295052
+SHUFFLE	COPY_MAP_DATA	19383000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1777326
+SHUFFLE	COMPRESS_BYTE_COUNT	519936
+SHUFFLE	COPY_MAP_DATA	46158000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1074002
+SHUFFLE	COMPRESS_BYTE_COUNT	297619
+SHUFFLE	COPY_MAP_DATA	18524000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	975332
+SHUFFLE	COMPRESS_BYTE_COUNT	281613
+SHUFFLE	COPY_MAP_DATA	23206000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1764578
+SHUFFLE	COMPRESS_BYTE_COUNT	482853
+SHUFFLE	COPY_MAP_DATA	64579000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1293612
+SHUFFLE	COMPRESS_BYTE_COUNT	314515
+SHUFFLE	COPY_MAP_DATA	38297000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	995545
+SHUFFLE	COMPRESS_BYTE_COUNT	288659
+SHUFFLE	COPY_MAP_DATA	91937000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1650689
+SHUFFLE	COMPRESS_BYTE_COUNT	475560
+SHUFFLE	COPY_MAP_DATA	25279000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1717268
+SHUFFLE	COMPRESS_BYTE_COUNT	513006
+SHUFFLE	COPY_MAP_DATA	54474000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1017552
+SHUFFLE	COMPRESS_BYTE_COUNT	294167
+SHUFFLE	COPY_MAP_DATA	20186000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1777764
+SHUFFLE	COMPRESS_BYTE_COUNT	529366
+SHUFFLE	COPY_MAP_DATA	695423000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1542449
+SHUFFLE	COMPRESS_BYTE_COUNT	456826
+SHUFFLE	COPY_MAP_DATA	55790000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1697368
+SHUFFLE	COMPRESS_BYTE_COUNT	487158
+SHUFFLE	COPY_MAP_DATA	43209000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	996411
+SHUFFLE	COMPRESS_BYTE_COUNT	293386
+SHUFFLE	COPY_MAP_DATA	200035000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	987300
+SHUFFLE	COMPRESS_BYTE_COUNT	294925
+SHUFFLE	COPY_MAP_DATA	83901000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1047419
+SHUFFLE	COMPRESS_BYTE_COUNT	303321
+SHUFFLE	COPY_MAP_DATA	423961000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	947740
+SHUFFLE	COMPRESS_BYTE_COUNT	294064
+SHUFFLE	COPY_MAP_DATA	185392000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1037334
+SHUFFLE	COMPRESS_BYTE_COUNT	299374
+SHUFFLE	COPY_MAP_DATA	52737000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	981431
+SHUFFLE	COMPRESS_BYTE_COUNT	292951
+SHUFFLE	COPY_MAP_DATA	42775000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	919357
+SHUFFLE	COMPRESS_BYTE_COUNT	265849
+SHUFFLE	COPY_MAP_DATA	300815000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1030913
+SHUFFLE	COMPRESS_BYTE_COUNT	304407
+SHUFFLE	COPY_MAP_DATA	248969000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	989966
+SHUFFLE	COMPRESS_BYTE_COUNT	302069
+SHUFFLE	COPY_MAP_DATA	290541000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1031613
+SHUFFLE	COMPRESS_BYTE_COUNT	297637
+SHUFFLE	COPY_MAP_DATA	223023000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1001818
+SHUFFLE	COMPRESS_BYTE_COUNT	296655
+SHUFFLE	COPY_MAP_DATA	17014000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1011001
+SHUFFLE	COMPRESS_BYTE_COUNT	297635
+SHUFFLE	COPY_MAP_DATA	108755000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1025842
+SHUFFLE	COMPRESS_BYTE_COUNT	304852
+SHUFFLE	COPY_MAP_DATA	40030000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1014423
+SHUFFLE	COMPRESS_BYTE_COUNT	295795
+SHUFFLE	COPY_MAP_DATA	37321000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1001097
+SHUFFLE	COMPRESS_BYTE_COUNT	296815
+SHUFFLE	COPY_MAP_DATA	53286000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1024752
+SHUFFLE	COMPRESS_BYTE_COUNT	297238
+SHUFFLE	COPY_MAP_DATA	17859000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1105494
+SHUFFLE	COMPRESS_BYTE_COUNT	299239
+SHUFFLE	COPY_MAP_DATA	1946304000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1092545
+SHUFFLE	COMPRESS_BYTE_COUNT	316495
+SHUFFLE	COPY_MAP_DATA	133126000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	970709
+SHUFFLE	COMPRESS_BYTE_COUNT	286390
+SHUFFLE	COPY_MAP_DATA	17524000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	966285
+SHUFFLE	COMPRESS_BYTE_COUNT	294949
+SHUFFLE	COPY_MAP_DATA	16844000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	966403
+SHUFFLE	COMPRESS_BYTE_COUNT	295253
+SHUFFLE	COPY_MAP_DATA	63711000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1002852
+SHUFFLE	COMPRESS_BYTE_COUNT	301063
+SHUFFLE	COPY_MAP_DATA	52043000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1144012
+SHUFFLE	COMPRESS_BYTE_COUNT	315079
+SHUFFLE	COPY_MAP_DATA	20501000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1016906
+SHUFFLE	COMPRESS_BYTE_COUNT	306157
+SHUFFLE	COPY_MAP_DATA	18317000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	956481
+SHUFFLE	COMPRESS_BYTE_COUNT	285450
+SHUFFLE	COPY_MAP_DATA	144359000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	984913
+SHUFFLE	COMPRESS_BYTE_COUNT	297302
+SHUFFLE	COPY_MAP_DATA	356922000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	950938
+SHUFFLE	COMPRESS_BYTE_COUNT	296699
+SHUFFLE	COPY_MAP_DATA	17315000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	976350
+SHUFFLE	COMPRESS_BYTE_COUNT	297376
+SHUFFLE	COPY_MAP_DATA	16793000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	980725
+SHUFFLE	COMPRESS_BYTE_COUNT	306573
+SHUFFLE	COPY_MAP_DATA	311964000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	980681
+SHUFFLE	COMPRESS_BYTE_COUNT	296091
+SHUFFLE	COPY_MAP_DATA	100469000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	966712
+SHUFFLE	COMPRESS_BYTE_COUNT	293534
+SHUFFLE	COPY_MAP_DATA	25377000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1012139
+SHUFFLE	COMPRESS_BYTE_COUNT	286859
+SHUFFLE	COPY_MAP_DATA	16884000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1021305
+SHUFFLE	COMPRESS_BYTE_COUNT	297753
+SHUFFLE	COPY_MAP_DATA	35079000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	951073
+SHUFFLE	COMPRESS_BYTE_COUNT	293386
+SHUFFLE	COPY_MAP_DATA	16824000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	967890
+SHUFFLE	COMPRESS_BYTE_COUNT	299783
+SHUFFLE	COPY_MAP_DATA	55717000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	957688
+SHUFFLE	COMPRESS_BYTE_COUNT	295154
+SHUFFLE	COPY_MAP_DATA	24297000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1029474
+SHUFFLE	COMPRESS_BYTE_COUNT	274420
+SHUFFLE	COPY_MAP_DATA	20486000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	946424
+SHUFFLE	COMPRESS_BYTE_COUNT	294371
+SHUFFLE	COPY_MAP_DATA	90425000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	954764
+SHUFFLE	COMPRESS_BYTE_COUNT	298474
+SHUFFLE	COPY_MAP_DATA	29337000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1014656
+SHUFFLE	COMPRESS_BYTE_COUNT	295501
+SHUFFLE	COPY_MAP_DATA	35725000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	967340
+SHUFFLE	COMPRESS_BYTE_COUNT	297665
+SHUFFLE	COPY_MAP_DATA	29288000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	916992
+SHUFFLE	COMPRESS_BYTE_COUNT	289778
+SHUFFLE	COPY_MAP_DATA	79197000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1032498
+SHUFFLE	COMPRESS_BYTE_COUNT	285725
+SHUFFLE	COPY_MAP_DATA	83815000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	911308
+SHUFFLE	COMPRESS_BYTE_COUNT	283047
+SHUFFLE	COPY_MAP_DATA	38374000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	985137
+SHUFFLE	COMPRESS_BYTE_COUNT	301289
+SHUFFLE	COPY_MAP_DATA	17898000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	948085
+SHUFFLE	COMPRESS_BYTE_COUNT	295656
+SHUFFLE	COPY_MAP_DATA	111081000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	918563
+SHUFFLE	COMPRESS_BYTE_COUNT	280726
+SHUFFLE	COPY_MAP_DATA	29403000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1003032
+SHUFFLE	COMPRESS_BYTE_COUNT	297393
+SHUFFLE	COPY_MAP_DATA	167823000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	937924
+SHUFFLE	COMPRESS_BYTE_COUNT	288718
+SHUFFLE	COPY_MAP_DATA	111891000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	964721
+SHUFFLE	COMPRESS_BYTE_COUNT	293939
+SHUFFLE	COPY_MAP_DATA	59488000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	979134
+SHUFFLE	COMPRESS_BYTE_COUNT	297081
+SHUFFLE	COPY_MAP_DATA	18897000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	933257
+SHUFFLE	COMPRESS_BYTE_COUNT	293604
+SHUFFLE	COPY_MAP_DATA	26517000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	952957
+SHUFFLE	COMPRESS_BYTE_COUNT	290870
+SHUFFLE	COPY_MAP_DATA	134081000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	940129
+SHUFFLE	COMPRESS_BYTE_COUNT	296051
+SHUFFLE	COPY_MAP_DATA	35845000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	893272
+SHUFFLE	COMPRESS_BYTE_COUNT	280921
+SHUFFLE	COPY_MAP_DATA	22216000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	970125
+SHUFFLE	COMPRESS_BYTE_COUNT	298037
+SHUFFLE	COPY_MAP_DATA	51735000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	925382
+SHUFFLE	COMPRESS_BYTE_COUNT	285011
+SHUFFLE	COPY_MAP_DATA	18446000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	957228
+SHUFFLE	COMPRESS_BYTE_COUNT	294825
+SHUFFLE	COPY_MAP_DATA	81054000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	886233
+SHUFFLE	COMPRESS_BYTE_COUNT	275067
+SHUFFLE	COPY_MAP_DATA	131472000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	902517
+SHUFFLE	COMPRESS_BYTE_COUNT	280204
+SHUFFLE	COPY_MAP_DATA	16417000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	898004
+SHUFFLE	COMPRESS_BYTE_COUNT	285974
+SHUFFLE	COPY_MAP_DATA	28524000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	934089
+SHUFFLE	COMPRESS_BYTE_COUNT	290781
+SHUFFLE	COPY_MAP_DATA	16119000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	984219
+SHUFFLE	COMPRESS_BYTE_COUNT	303866
+SHUFFLE	COPY_MAP_DATA	16875000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	889195
+SHUFFLE	COMPRESS_BYTE_COUNT	278020
+SHUFFLE	COPY_MAP_DATA	38598000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	959208
+SHUFFLE	COMPRESS_BYTE_COUNT	292265
+SHUFFLE	COPY_MAP_DATA	16976000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	888215
+SHUFFLE	COMPRESS_BYTE_COUNT	277389
+SHUFFLE	COPY_MAP_DATA	98835000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	887848
+SHUFFLE	COMPRESS_BYTE_COUNT	273339
+SHUFFLE	COPY_MAP_DATA	15990000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	865000
+SHUFFLE	COMPRESS_BYTE_COUNT	273024
+SHUFFLE	COPY_MAP_DATA	23507000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	950130
+SHUFFLE	COMPRESS_BYTE_COUNT	294896
+SHUFFLE	COPY_MAP_DATA	67224000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	935502
+SHUFFLE	COMPRESS_BYTE_COUNT	289340
+SHUFFLE	COPY_MAP_DATA	20224000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	927044
+SHUFFLE	COMPRESS_BYTE_COUNT	280786
+SHUFFLE	COPY_MAP_DATA	36355000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	916649
+SHUFFLE	COMPRESS_BYTE_COUNT	290582
+SHUFFLE	COPY_MAP_DATA	20036000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	956697
+SHUFFLE	COMPRESS_BYTE_COUNT	296340
+SHUFFLE	COPY_MAP_DATA	76719000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	922203
+SHUFFLE	COMPRESS_BYTE_COUNT	291175
+SHUFFLE	COPY_MAP_DATA	37061000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	885418
+SHUFFLE	COMPRESS_BYTE_COUNT	277563
+SHUFFLE	COPY_MAP_DATA	70308000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	947561
+SHUFFLE	COMPRESS_BYTE_COUNT	283521
+SHUFFLE	COPY_MAP_DATA	16638000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	896461
+SHUFFLE	COMPRESS_BYTE_COUNT	282825
+SHUFFLE	COPY_MAP_DATA	123965000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	852194
+SHUFFLE	COMPRESS_BYTE_COUNT	268535
+SHUFFLE	COPY_MAP_DATA	259070000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	905256
+SHUFFLE	COMPRESS_BYTE_COUNT	273125
+SHUFFLE	COPY_MAP_DATA	100950000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	929300
+SHUFFLE	COMPRESS_BYTE_COUNT	284553
+SHUFFLE	COPY_MAP_DATA	36516000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	869170
+SHUFFLE	COMPRESS_BYTE_COUNT	271421
+SHUFFLE	COPY_MAP_DATA	38069000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	891858
+SHUFFLE	COMPRESS_BYTE_COUNT	259079
+SHUFFLE	COPY_MAP_DATA	673239000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	899629
+SHUFFLE	COMPRESS_BYTE_COUNT	279713
+SHUFFLE	COPY_MAP_DATA	16835000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	853374
+SHUFFLE	COMPRESS_BYTE_COUNT	256165
+SHUFFLE	COPY_MAP_DATA	14812000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	885905
+SHUFFLE	COMPRESS_BYTE_COUNT	272385
+SHUFFLE	COPY_MAP_DATA	55941000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	934198
+SHUFFLE	COMPRESS_BYTE_COUNT	288106
+SHUFFLE	COPY_MAP_DATA	705469000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	927994
+SHUFFLE	COMPRESS_BYTE_COUNT	290101
+SHUFFLE	COPY_MAP_DATA	26837000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	882984
+SHUFFLE	COMPRESS_BYTE_COUNT	274337
+SHUFFLE	COPY_MAP_DATA	37097000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	904745
+SHUFFLE	COMPRESS_BYTE_COUNT	264146
+SHUFFLE	COPY_MAP_DATA	42018000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	949681
+SHUFFLE	COMPRESS_BYTE_COUNT	291413
+SHUFFLE	COPY_MAP_DATA	35746000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	839436
+SHUFFLE	COMPRESS_BYTE_COUNT	251781
+SHUFFLE	COPY_MAP_DATA	40495000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	852400
+SHUFFLE	COMPRESS_BYTE_COUNT	262040
+SHUFFLE	COPY_MAP_DATA	17532000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	884353
+SHUFFLE	COMPRESS_BYTE_COUNT	278323
+SHUFFLE	COPY_MAP_DATA	16979000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	798294
+SHUFFLE	COMPRESS_BYTE_COUNT	245444
+SHUFFLE	COPY_MAP_DATA	14627000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	807497
+SHUFFLE	COMPRESS_BYTE_COUNT	264137
+SHUFFLE	COPY_MAP_DATA	36350000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	942497
+SHUFFLE	COMPRESS_BYTE_COUNT	278784
+SHUFFLE	COPY_MAP_DATA	17273000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	819003
+SHUFFLE	COMPRESS_BYTE_COUNT	245610
+SHUFFLE	COPY_MAP_DATA	16603000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	856039
+SHUFFLE	COMPRESS_BYTE_COUNT	256165
+SHUFFLE	COPY_MAP_DATA	15128000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	850298
+SHUFFLE	COMPRESS_BYTE_COUNT	267808
+SHUFFLE	COPY_MAP_DATA	27236000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	847476
+SHUFFLE	COMPRESS_BYTE_COUNT	256046
+SHUFFLE	COPY_MAP_DATA	72379000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	838365
+SHUFFLE	COMPRESS_BYTE_COUNT	262297
+SHUFFLE	COPY_MAP_DATA	14910000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	867640
+SHUFFLE	COMPRESS_BYTE_COUNT	265457
+SHUFFLE	COPY_MAP_DATA	14174000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	982677
+SHUFFLE	COMPRESS_BYTE_COUNT	289823
+SHUFFLE	COPY_MAP_DATA	19128000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	855988
+SHUFFLE	COMPRESS_BYTE_COUNT	254959
+SHUFFLE	COPY_MAP_DATA	16747000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	793699
+SHUFFLE	COMPRESS_BYTE_COUNT	246019
+SHUFFLE	COPY_MAP_DATA	33429000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1022577
+SHUFFLE	COMPRESS_BYTE_COUNT	272580
+SHUFFLE	COPY_MAP_DATA	17245000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	818865
+SHUFFLE	COMPRESS_BYTE_COUNT	244500
+SHUFFLE	COPY_MAP_DATA	93577000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	825498
+SHUFFLE	COMPRESS_BYTE_COUNT	255150
+SHUFFLE	COPY_MAP_DATA	23112000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	758309
+SHUFFLE	COMPRESS_BYTE_COUNT	204707
+SHUFFLE	COPY_MAP_DATA	16284000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	897491
+SHUFFLE	COMPRESS_BYTE_COUNT	268795
+SHUFFLE	COPY_MAP_DATA	24029000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	744413
+SHUFFLE	COMPRESS_BYTE_COUNT	233543
+SHUFFLE	COPY_MAP_DATA	14638000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	929121
+SHUFFLE	COMPRESS_BYTE_COUNT	281023
+SHUFFLE	COPY_MAP_DATA	17678000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	826138
+SHUFFLE	COMPRESS_BYTE_COUNT	255537
+SHUFFLE	COPY_MAP_DATA	15763000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	797743
+SHUFFLE	COMPRESS_BYTE_COUNT	238306
+SHUFFLE	COPY_MAP_DATA	502758000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	818976
+SHUFFLE	COMPRESS_BYTE_COUNT	248878
+SHUFFLE	COPY_MAP_DATA	13985000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	764460
+SHUFFLE	COMPRESS_BYTE_COUNT	237491
+SHUFFLE	COPY_MAP_DATA	16448000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	816433
+SHUFFLE	COMPRESS_BYTE_COUNT	253397
+SHUFFLE	COPY_MAP_DATA	18608000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	824185
+SHUFFLE	COMPRESS_BYTE_COUNT	253717
+SHUFFLE	COPY_MAP_DATA	33409000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	834150
+SHUFFLE	COMPRESS_BYTE_COUNT	248795
+SHUFFLE	COPY_MAP_DATA	15337000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	810112
+SHUFFLE	COMPRESS_BYTE_COUNT	241578
+SHUFFLE	COPY_MAP_DATA	104440000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	869844
+SHUFFLE	COMPRESS_BYTE_COUNT	248387
+SHUFFLE	COPY_MAP_DATA	56098000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	805318
+SHUFFLE	COMPRESS_BYTE_COUNT	241720
+SHUFFLE	COPY_MAP_DATA	16861000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	796472
+SHUFFLE	COMPRESS_BYTE_COUNT	239649
+SHUFFLE	COPY_MAP_DATA	15794000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	825221
+SHUFFLE	COMPRESS_BYTE_COUNT	252548
+SHUFFLE	COPY_MAP_DATA	213444000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	779267
+SHUFFLE	COMPRESS_BYTE_COUNT	240817
+SHUFFLE	COPY_MAP_DATA	16477000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	796628
+SHUFFLE	COMPRESS_BYTE_COUNT	239276
+SHUFFLE	COPY_MAP_DATA	15530000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	818287
+SHUFFLE	COMPRESS_BYTE_COUNT	247583
+SHUFFLE	COPY_MAP_DATA	342143000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	938152
+SHUFFLE	COMPRESS_BYTE_COUNT	280155
+SHUFFLE	COPY_MAP_DATA	1111993000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	831252
+SHUFFLE	COMPRESS_BYTE_COUNT	259943
+SHUFFLE	COPY_MAP_DATA	67987000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	873843
+SHUFFLE	COMPRESS_BYTE_COUNT	266180
+SHUFFLE	COPY_MAP_DATA	94132000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	820361
+SHUFFLE	COMPRESS_BYTE_COUNT	229790
+SHUFFLE	COPY_MAP_DATA	423804000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	845671
+SHUFFLE	COMPRESS_BYTE_COUNT	251726
+SHUFFLE	COPY_MAP_DATA	75752000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1132066
+SHUFFLE	COMPRESS_BYTE_COUNT	357150
+SHUFFLE	COPY_MAP_DATA	59414000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	830491
+SHUFFLE	COMPRESS_BYTE_COUNT	240923
+SHUFFLE	COPY_MAP_DATA	15812000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	777383
+SHUFFLE	COMPRESS_BYTE_COUNT	238180
+SHUFFLE	COPY_MAP_DATA	75748000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	752641
+SHUFFLE	COMPRESS_BYTE_COUNT	235617
+SHUFFLE	COPY_MAP_DATA	15440000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	863692
+SHUFFLE	COMPRESS_BYTE_COUNT	260706
+SHUFFLE	COPY_MAP_DATA	16115000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	755626
+SHUFFLE	COMPRESS_BYTE_COUNT	229224
+SHUFFLE	COPY_MAP_DATA	13469000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	765593
+SHUFFLE	COMPRESS_BYTE_COUNT	233149
+SHUFFLE	COPY_MAP_DATA	78701000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	910962
+SHUFFLE	COMPRESS_BYTE_COUNT	259251
+SHUFFLE	COPY_MAP_DATA	24379000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	986127
+SHUFFLE	COMPRESS_BYTE_COUNT	281470
+SHUFFLE	COPY_MAP_DATA	620227000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	834683
+SHUFFLE	COMPRESS_BYTE_COUNT	242075
+SHUFFLE	COPY_MAP_DATA	65066000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	843688
+SHUFFLE	COMPRESS_BYTE_COUNT	265679
+SHUFFLE	COPY_MAP_DATA	127395000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	948848
+SHUFFLE	COMPRESS_BYTE_COUNT	283117
+SHUFFLE	COPY_MAP_DATA	56452000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	837268
+SHUFFLE	COMPRESS_BYTE_COUNT	246153
+SHUFFLE	COPY_MAP_DATA	38121000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	761136
+SHUFFLE	COMPRESS_BYTE_COUNT	231643
+SHUFFLE	COPY_MAP_DATA	257672000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	761407
+SHUFFLE	COMPRESS_BYTE_COUNT	223234
+SHUFFLE	COPY_MAP_DATA	12181000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	780297
+SHUFFLE	COMPRESS_BYTE_COUNT	238684
+SHUFFLE	COPY_MAP_DATA	1786313000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	743096
+SHUFFLE	COMPRESS_BYTE_COUNT	232211
+SHUFFLE	COPY_MAP_DATA	223721000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	786431
+SHUFFLE	COMPRESS_BYTE_COUNT	238490
+SHUFFLE	COPY_MAP_DATA	28806000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	831923
+SHUFFLE	COMPRESS_BYTE_COUNT	243350
+SHUFFLE	COPY_MAP_DATA	14991000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	792714
+SHUFFLE	COMPRESS_BYTE_COUNT	240336
+SHUFFLE	COPY_MAP_DATA	753780000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	742716
+SHUFFLE	COMPRESS_BYTE_COUNT	223343
+SHUFFLE	COPY_MAP_DATA	15997000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	794338
+SHUFFLE	COMPRESS_BYTE_COUNT	233446
+SHUFFLE	COPY_MAP_DATA	1652717000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	730692
+SHUFFLE	COMPRESS_BYTE_COUNT	222727
+SHUFFLE	COPY_MAP_DATA	15143000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	807579
+SHUFFLE	COMPRESS_BYTE_COUNT	234949
+SHUFFLE	COPY_MAP_DATA	99309000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	830188
+SHUFFLE	COMPRESS_BYTE_COUNT	242368
+SHUFFLE	COPY_MAP_DATA	712927000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	835615
+SHUFFLE	COMPRESS_BYTE_COUNT	246754
+SHUFFLE	COPY_MAP_DATA	17768000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1084351
+SHUFFLE	COMPRESS_BYTE_COUNT	345283
+SHUFFLE	COPY_MAP_DATA	301447000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	807630
+SHUFFLE	COMPRESS_BYTE_COUNT	236071
+SHUFFLE	COPY_MAP_DATA	16407000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	874993
+SHUFFLE	COMPRESS_BYTE_COUNT	262800
+SHUFFLE	COPY_MAP_DATA	41229000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	852461
+SHUFFLE	COMPRESS_BYTE_COUNT	260649
+SHUFFLE	COPY_MAP_DATA	84365000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1059836
+SHUFFLE	COMPRESS_BYTE_COUNT	262634
+SHUFFLE	COPY_MAP_DATA	213522000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	729744
+SHUFFLE	COMPRESS_BYTE_COUNT	225283
+SHUFFLE	COPY_MAP_DATA	80367000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	861576
+SHUFFLE	COMPRESS_BYTE_COUNT	259616
+SHUFFLE	COPY_MAP_DATA	53904000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	862429
+SHUFFLE	COMPRESS_BYTE_COUNT	254870
+SHUFFLE	COPY_MAP_DATA	322142000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	864353
+SHUFFLE	COMPRESS_BYTE_COUNT	242003
+SHUFFLE	COPY_MAP_DATA	15923000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	898475
+SHUFFLE	COMPRESS_BYTE_COUNT	251677
+SHUFFLE	COPY_MAP_DATA	15990000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	842299
+SHUFFLE	COMPRESS_BYTE_COUNT	255929
+SHUFFLE	COPY_MAP_DATA	16699000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	707443
+SHUFFLE	COMPRESS_BYTE_COUNT	223709
+SHUFFLE	COPY_MAP_DATA	14165000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	883283
+SHUFFLE	COMPRESS_BYTE_COUNT	256386
+SHUFFLE	COPY_MAP_DATA	17301000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	795575
+SHUFFLE	COMPRESS_BYTE_COUNT	247628
+SHUFFLE	COPY_MAP_DATA	17651000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	943228
+SHUFFLE	COMPRESS_BYTE_COUNT	259868
+SHUFFLE	COPY_MAP_DATA	17504000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	897519
+SHUFFLE	COMPRESS_BYTE_COUNT	265937
+SHUFFLE	COPY_MAP_DATA	202199000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	780663
+SHUFFLE	COMPRESS_BYTE_COUNT	236306
+SHUFFLE	COPY_MAP_DATA	29837000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	881698
+SHUFFLE	COMPRESS_BYTE_COUNT	254033
+SHUFFLE	COPY_MAP_DATA	16960000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	774020
+SHUFFLE	COMPRESS_BYTE_COUNT	237153
+SHUFFLE	COPY_MAP_DATA	14689000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	762802
+SHUFFLE	COMPRESS_BYTE_COUNT	231124
+SHUFFLE	COPY_MAP_DATA	14992000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	828480
+SHUFFLE	COMPRESS_BYTE_COUNT	254784
+SHUFFLE	COPY_MAP_DATA	110648000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	870438
+SHUFFLE	COMPRESS_BYTE_COUNT	250691
+SHUFFLE	COPY_MAP_DATA	7331547000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	744291
+SHUFFLE	COMPRESS_BYTE_COUNT	229203
+SHUFFLE	COPY_MAP_DATA	14357000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	999239
+SHUFFLE	COMPRESS_BYTE_COUNT	315826
+SHUFFLE	COPY_MAP_DATA	17235000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	718596
+SHUFFLE	COMPRESS_BYTE_COUNT	219884
+SHUFFLE	COPY_MAP_DATA	237731000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	936884
+SHUFFLE	COMPRESS_BYTE_COUNT	255759
+SHUFFLE	COPY_MAP_DATA	88515000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	770808
+SHUFFLE	COMPRESS_BYTE_COUNT	225952
+SHUFFLE	COPY_MAP_DATA	12521000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	829990
+SHUFFLE	COMPRESS_BYTE_COUNT	254352
+SHUFFLE	COPY_MAP_DATA	14963000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	755672
+SHUFFLE	COMPRESS_BYTE_COUNT	216644
+SHUFFLE	COPY_MAP_DATA	11260000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	662688
+SHUFFLE	COMPRESS_BYTE_COUNT	166231
+SHUFFLE	COPY_MAP_DATA	10048000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	790720
+SHUFFLE	COMPRESS_BYTE_COUNT	241269
+SHUFFLE	COPY_MAP_DATA	12549000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	935467
+SHUFFLE	COMPRESS_BYTE_COUNT	288200
+SHUFFLE	COPY_MAP_DATA	210325000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	870028
+SHUFFLE	COMPRESS_BYTE_COUNT	253856
+SHUFFLE	COPY_MAP_DATA	15472000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	707443
+SHUFFLE	COMPRESS_BYTE_COUNT	223709
+SHUFFLE	COPY_MAP_DATA	13386000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	862522
+SHUFFLE	COMPRESS_BYTE_COUNT	237674
+SHUFFLE	COPY_MAP_DATA	13291000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	749285
+SHUFFLE	COMPRESS_BYTE_COUNT	228547
+SHUFFLE	COPY_MAP_DATA	14234000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	535305
+SHUFFLE	COMPRESS_BYTE_COUNT	118626
+SHUFFLE	COPY_MAP_DATA	8469000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	771776
+SHUFFLE	COMPRESS_BYTE_COUNT	223566
+SHUFFLE	COPY_MAP_DATA	128363000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	679412
+SHUFFLE	COMPRESS_BYTE_COUNT	209929
+SHUFFLE	COPY_MAP_DATA	22901000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	806371
+SHUFFLE	COMPRESS_BYTE_COUNT	248865
+SHUFFLE	COPY_MAP_DATA	14500000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	993772
+SHUFFLE	COMPRESS_BYTE_COUNT	272782
+SHUFFLE	COPY_MAP_DATA	16630000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	799851
+SHUFFLE	COMPRESS_BYTE_COUNT	237664
+SHUFFLE	COPY_MAP_DATA	36097000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	736080
+SHUFFLE	COMPRESS_BYTE_COUNT	220517
+SHUFFLE	COPY_MAP_DATA	42298000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	768340
+SHUFFLE	COMPRESS_BYTE_COUNT	234010
+SHUFFLE	COPY_MAP_DATA	176283000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	861725
+SHUFFLE	COMPRESS_BYTE_COUNT	285387
+SHUFFLE	COPY_MAP_DATA	34725000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	944548
+SHUFFLE	COMPRESS_BYTE_COUNT	310321
+SHUFFLE	COPY_MAP_DATA	35959000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	849630
+SHUFFLE	COMPRESS_BYTE_COUNT	258448
+SHUFFLE	COPY_MAP_DATA	181428000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	218488802999
+MERGE	READ_WRITE	217185815999
+MERGE	READ_WRITE_COUNT	2
+MERGE	COMBINE	0
+MERGE	WRITE	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	40929836667
+SORT	READ_WRITE	40392312667
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	139331296
+REDUCE	SETUP	986000
+REDUCE	SETUP_MEM	139331296
+REDUCE	CLEANUP	45000
+REDUCE	CLEANUP_MEM	146701216
+REDUCE	TOTAL_RUN	138719108813
+REDUCE	READ	10520603000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	119487897813
+REDUCE	WRITE	56271807813
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	72952596
+REDUCE	VALUE_BYTE_COUNT	66977304
+REDUCE	REDUCE_MEM	146703264
+REDUCE	WRITE	11425000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	811193507297
@@ -0,0 +1,1333 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1989147
+SHUFFLE	COMPRESS_BYTE_COUNT	571683
+SHUFFLE	COPY_MAP_DATA	330142000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1647822
+SHUFFLE	COMPRESS_BYTE_COUNT	463046
+SHUFFLE	COPY_MAP_DATA	39753000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2009779
+SHUFFLE	COMPRESS_BYTE_COUNT	568935
+SHUFFLE	COPY_MAP_DATA	50516000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1816028
+SHUFFLE	COMPRESS_BYTE_COUNT	468106
+SHUFFLE	COPY_MAP_DATA	426303000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1835737
+SHUFFLE	COMPRESS_BYTE_COUNT	550409
+SHUFFLE	COPY_MAP_DATA	58472000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1935521
+SHUFFLE	COMPRESS_BYTE_COUNT	557013
+SHUFFLE	COPY_MAP_DATA	152360000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1914104
+SHUFFLE	COMPRESS_BYTE_COUNT	566332
+SHUFFLE	COPY_MAP_DATA	37975000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1969735
+SHUFFLE	COMPRESS_BYTE_COUNT	533144
+SHUFFLE	COPY_MAP_DATA	134350000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2008534
+SHUFFLE	COMPRESS_BYTE_COUNT	581162
+SHUFFLE	COPY_MAP_DATA	34310000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1945211
+SHUFFLE	COMPRESS_BYTE_COUNT	572455
+SHUFFLE	COPY_MAP_DATA	52005000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2001322
+SHUFFLE	COMPRESS_BYTE_COUNT	538203
+SHUFFLE	COPY_MAP_DATA	43144000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1743393
+SHUFFLE	COMPRESS_BYTE_COUNT	479535
+SHUFFLE	COPY_MAP_DATA	69188000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2197701
+SHUFFLE	COMPRESS_BYTE_COUNT	574859
+SHUFFLE	COPY_MAP_DATA	30205000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1902632
+SHUFFLE	COMPRESS_BYTE_COUNT	570348
+SHUFFLE	COPY_MAP_DATA	30769000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1880209
+SHUFFLE	COMPRESS_BYTE_COUNT	555324
+SHUFFLE	COPY_MAP_DATA	27519000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1970382
+SHUFFLE	COMPRESS_BYTE_COUNT	558176
+SHUFFLE	COPY_MAP_DATA	74148000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2087456
+SHUFFLE	COMPRESS_BYTE_COUNT	571699
+SHUFFLE	COPY_MAP_DATA	39222000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2028448
+SHUFFLE	COMPRESS_BYTE_COUNT	574421
+SHUFFLE	COPY_MAP_DATA	71610000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2031349
+SHUFFLE	COMPRESS_BYTE_COUNT	589051
+SHUFFLE	COPY_MAP_DATA	127708000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1970067
+SHUFFLE	COMPRESS_BYTE_COUNT	562239
+SHUFFLE	COPY_MAP_DATA	55969000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1984025
+SHUFFLE	COMPRESS_BYTE_COUNT	569956
+SHUFFLE	COPY_MAP_DATA	171235000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1895243
+SHUFFLE	COMPRESS_BYTE_COUNT	550267
+SHUFFLE	COPY_MAP_DATA	341520000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1903480
+SHUFFLE	COMPRESS_BYTE_COUNT	562786
+SHUFFLE	COPY_MAP_DATA	42332000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1980882
+SHUFFLE	COMPRESS_BYTE_COUNT	572309
+SHUFFLE	COPY_MAP_DATA	195345000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1926659
+SHUFFLE	COMPRESS_BYTE_COUNT	566619
+SHUFFLE	COPY_MAP_DATA	176309000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2047311
+SHUFFLE	COMPRESS_BYTE_COUNT	546726
+SHUFFLE	COPY_MAP_DATA	28041000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2006992
+SHUFFLE	COMPRESS_BYTE_COUNT	558691
+SHUFFLE	COPY_MAP_DATA	230442000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1987253
+SHUFFLE	COMPRESS_BYTE_COUNT	546648
+SHUFFLE	COPY_MAP_DATA	1909303000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2098783
+SHUFFLE	COMPRESS_BYTE_COUNT	560414
+SHUFFLE	COPY_MAP_DATA	29731000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2121954
+SHUFFLE	COMPRESS_BYTE_COUNT	577893
+SHUFFLE	COPY_MAP_DATA	46697000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1818094
+SHUFFLE	COMPRESS_BYTE_COUNT	533537
+SHUFFLE	COPY_MAP_DATA	1831300000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1834346
+SHUFFLE	COMPRESS_BYTE_COUNT	553549
+SHUFFLE	COPY_MAP_DATA	105896000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1847499
+SHUFFLE	COMPRESS_BYTE_COUNT	558440
+SHUFFLE	COPY_MAP_DATA	29664000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1737394
+SHUFFLE	COMPRESS_BYTE_COUNT	529849
+SHUFFLE	COPY_MAP_DATA	26846000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1949405
+SHUFFLE	COMPRESS_BYTE_COUNT	571972
+SHUFFLE	COPY_MAP_DATA	44468000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1969794
+SHUFFLE	COMPRESS_BYTE_COUNT	564585
+SHUFFLE	COPY_MAP_DATA	28819000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1871738
+SHUFFLE	COMPRESS_BYTE_COUNT	548343
+SHUFFLE	COPY_MAP_DATA	27886000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2341072
+SHUFFLE	COMPRESS_BYTE_COUNT	479976
+SHUFFLE	COPY_MAP_DATA	26883000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1834109
+SHUFFLE	COMPRESS_BYTE_COUNT	546928
+SHUFFLE	COPY_MAP_DATA	27597000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1995691
+SHUFFLE	COMPRESS_BYTE_COUNT	572193
+SHUFFLE	COPY_MAP_DATA	29460000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1845922
+SHUFFLE	COMPRESS_BYTE_COUNT	549976
+SHUFFLE	COPY_MAP_DATA	95693000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1720765
+SHUFFLE	COMPRESS_BYTE_COUNT	503688
+SHUFFLE	COPY_MAP_DATA	33976000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1830089
+SHUFFLE	COMPRESS_BYTE_COUNT	535742
+SHUFFLE	COPY_MAP_DATA	37415000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1568132
+SHUFFLE	COMPRESS_BYTE_COUNT	460350
+SHUFFLE	COPY_MAP_DATA	40681000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1637641
+SHUFFLE	COMPRESS_BYTE_COUNT	480601
+SHUFFLE	COPY_MAP_DATA	59232000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1844457
+SHUFFLE	COMPRESS_BYTE_COUNT	552943
+SHUFFLE	COPY_MAP_DATA	132835000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1944073
+SHUFFLE	COMPRESS_BYTE_COUNT	564857
+SHUFFLE	COPY_MAP_DATA	2142634000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1851213
+SHUFFLE	COMPRESS_BYTE_COUNT	549160
+SHUFFLE	COPY_MAP_DATA	341011000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1839374
+SHUFFLE	COMPRESS_BYTE_COUNT	555940
+SHUFFLE	COPY_MAP_DATA	384940000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1734349
+SHUFFLE	COMPRESS_BYTE_COUNT	534689
+SHUFFLE	COPY_MAP_DATA	71644000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1674004
+SHUFFLE	COMPRESS_BYTE_COUNT	483001
+SHUFFLE	COPY_MAP_DATA	32423000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1817035
+SHUFFLE	COMPRESS_BYTE_COUNT	529881
+SHUFFLE	COPY_MAP_DATA	476287000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1756941
+SHUFFLE	COMPRESS_BYTE_COUNT	506857
+SHUFFLE	COPY_MAP_DATA	199280000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1832384
+SHUFFLE	COMPRESS_BYTE_COUNT	529557
+SHUFFLE	COPY_MAP_DATA	27652000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1839510
+SHUFFLE	COMPRESS_BYTE_COUNT	550777
+SHUFFLE	COPY_MAP_DATA	27226000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2128816
+SHUFFLE	COMPRESS_BYTE_COUNT	565606
+SHUFFLE	COPY_MAP_DATA	29075000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1901080
+SHUFFLE	COMPRESS_BYTE_COUNT	546709
+SHUFFLE	COPY_MAP_DATA	35133000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1888735
+SHUFFLE	COMPRESS_BYTE_COUNT	550903
+SHUFFLE	COPY_MAP_DATA	28513000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1746791
+SHUFFLE	COMPRESS_BYTE_COUNT	525939
+SHUFFLE	COPY_MAP_DATA	3770293000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1730096
+SHUFFLE	COMPRESS_BYTE_COUNT	521716
+SHUFFLE	COPY_MAP_DATA	27468000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1641777
+SHUFFLE	COMPRESS_BYTE_COUNT	479070
+SHUFFLE	COPY_MAP_DATA	52004000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1643144
+SHUFFLE	COMPRESS_BYTE_COUNT	483217
+SHUFFLE	COPY_MAP_DATA	47477000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1630228
+SHUFFLE	COMPRESS_BYTE_COUNT	480250
+SHUFFLE	COPY_MAP_DATA	25660000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1658737
+SHUFFLE	COMPRESS_BYTE_COUNT	488224
+SHUFFLE	COPY_MAP_DATA	26123000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1720284
+SHUFFLE	COMPRESS_BYTE_COUNT	489383
+SHUFFLE	COPY_MAP_DATA	25148000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1538990
+SHUFFLE	COMPRESS_BYTE_COUNT	446217
+SHUFFLE	COPY_MAP_DATA	37269000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1606881
+SHUFFLE	COMPRESS_BYTE_COUNT	468795
+SHUFFLE	COPY_MAP_DATA	24713000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1534694
+SHUFFLE	COMPRESS_BYTE_COUNT	450727
+SHUFFLE	COPY_MAP_DATA	161873000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1510439
+SHUFFLE	COMPRESS_BYTE_COUNT	442748
+SHUFFLE	COPY_MAP_DATA	76936000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1845784
+SHUFFLE	COMPRESS_BYTE_COUNT	537029
+SHUFFLE	COPY_MAP_DATA	85105000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1561991
+SHUFFLE	COMPRESS_BYTE_COUNT	455595
+SHUFFLE	COPY_MAP_DATA	785862000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1644550
+SHUFFLE	COMPRESS_BYTE_COUNT	481376
+SHUFFLE	COPY_MAP_DATA	330670000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1719088
+SHUFFLE	COMPRESS_BYTE_COUNT	472085
+SHUFFLE	COPY_MAP_DATA	147277000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1615129
+SHUFFLE	COMPRESS_BYTE_COUNT	468565
+SHUFFLE	COPY_MAP_DATA	35711000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1559478
+SHUFFLE	COMPRESS_BYTE_COUNT	461782
+SHUFFLE	COPY_MAP_DATA	33483000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1597477
+SHUFFLE	COMPRESS_BYTE_COUNT	460326
+SHUFFLE	COPY_MAP_DATA	68501000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1685571
+SHUFFLE	COMPRESS_BYTE_COUNT	485416
+SHUFFLE	COPY_MAP_DATA	26421000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1925465
+SHUFFLE	COMPRESS_BYTE_COUNT	580397
+SHUFFLE	COPY_MAP_DATA	39738000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1648356
+SHUFFLE	COMPRESS_BYTE_COUNT	478085
+SHUFFLE	COPY_MAP_DATA	121994000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1544055
+SHUFFLE	COMPRESS_BYTE_COUNT	466140
+SHUFFLE	COPY_MAP_DATA	25640000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1828432
+SHUFFLE	COMPRESS_BYTE_COUNT	567956
+SHUFFLE	COPY_MAP_DATA	1297942000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1773987
+SHUFFLE	COMPRESS_BYTE_COUNT	520889
+SHUFFLE	COPY_MAP_DATA	28846000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1653326
+SHUFFLE	COMPRESS_BYTE_COUNT	481957
+SHUFFLE	COPY_MAP_DATA	26321000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1841177
+SHUFFLE	COMPRESS_BYTE_COUNT	538173
+SHUFFLE	COPY_MAP_DATA	27748000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1561300
+SHUFFLE	COMPRESS_BYTE_COUNT	469288
+SHUFFLE	COPY_MAP_DATA	37631000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1689524
+SHUFFLE	COMPRESS_BYTE_COUNT	485547
+SHUFFLE	COPY_MAP_DATA	104888000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1763712
+SHUFFLE	COMPRESS_BYTE_COUNT	543209
+SHUFFLE	COPY_MAP_DATA	38371000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	822199
+SHUFFLE	COMPRESS_BYTE_COUNT	233874
+SHUFFLE	COPY_MAP_DATA	28070000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1458858
+SHUFFLE	COMPRESS_BYTE_COUNT	434122
+SHUFFLE	COPY_MAP_DATA	9974910000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1574042
+SHUFFLE	COMPRESS_BYTE_COUNT	454877
+SHUFFLE	COPY_MAP_DATA	886493000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1583826
+SHUFFLE	COMPRESS_BYTE_COUNT	455275
+SHUFFLE	COPY_MAP_DATA	2351355000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	993831
+SHUFFLE	COMPRESS_BYTE_COUNT	265372
+SHUFFLE	COPY_MAP_DATA	1202319000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	906982
+SHUFFLE	COMPRESS_BYTE_COUNT	263621
+SHUFFLE	COPY_MAP_DATA	15445000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	836413
+SHUFFLE	COMPRESS_BYTE_COUNT	243481
+SHUFFLE	COPY_MAP_DATA	48373000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	788716
+SHUFFLE	COMPRESS_BYTE_COUNT	236015
+SHUFFLE	COPY_MAP_DATA	1247237000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1784237
+SHUFFLE	COMPRESS_BYTE_COUNT	490121
+SHUFFLE	COPY_MAP_DATA	40276000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1639242
+SHUFFLE	COMPRESS_BYTE_COUNT	467348
+SHUFFLE	COPY_MAP_DATA	25743000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1019634
+SHUFFLE	COMPRESS_BYTE_COUNT	293930
+SHUFFLE	COPY_MAP_DATA	1252729000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	859108
+SHUFFLE	COMPRESS_BYTE_COUNT	243241
+SHUFFLE	COPY_MAP_DATA	62949000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1599612
+SHUFFLE	COMPRESS_BYTE_COUNT	462942
+SHUFFLE	COPY_MAP_DATA	1226926000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1472817
+SHUFFLE	COMPRESS_BYTE_COUNT	428657
+SHUFFLE	COPY_MAP_DATA	208583000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1611676
+SHUFFLE	COMPRESS_BYTE_COUNT	473880
+SHUFFLE	COPY_MAP_DATA	150541000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1461746
+SHUFFLE	COMPRESS_BYTE_COUNT	420167
+SHUFFLE	COPY_MAP_DATA	51213000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1676229
+SHUFFLE	COMPRESS_BYTE_COUNT	489047
+SHUFFLE	COPY_MAP_DATA	26650000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1060678
+SHUFFLE	COMPRESS_BYTE_COUNT	296210
+SHUFFLE	COPY_MAP_DATA	667728000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1533417
+SHUFFLE	COMPRESS_BYTE_COUNT	447504
+SHUFFLE	COPY_MAP_DATA	22923000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1510570
+SHUFFLE	COMPRESS_BYTE_COUNT	440842
+SHUFFLE	COPY_MAP_DATA	22391000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	960322
+SHUFFLE	COMPRESS_BYTE_COUNT	287582
+SHUFFLE	COPY_MAP_DATA	19688000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1716975
+SHUFFLE	COMPRESS_BYTE_COUNT	535923
+SHUFFLE	COPY_MAP_DATA	32074000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1776271
+SHUFFLE	COMPRESS_BYTE_COUNT	517103
+SHUFFLE	COPY_MAP_DATA	25784000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	964097
+SHUFFLE	COMPRESS_BYTE_COUNT	281690
+SHUFFLE	COPY_MAP_DATA	23843000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1037227
+SHUFFLE	COMPRESS_BYTE_COUNT	289473
+SHUFFLE	COPY_MAP_DATA	76248000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1600963
+SHUFFLE	COMPRESS_BYTE_COUNT	465965
+SHUFFLE	COPY_MAP_DATA	25326000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	3051515
+SHUFFLE	COMPRESS_BYTE_COUNT	440133
+SHUFFLE	COPY_MAP_DATA	929615000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1600383
+SHUFFLE	COMPRESS_BYTE_COUNT	470352
+SHUFFLE	COPY_MAP_DATA	309107000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	967621
+SHUFFLE	COMPRESS_BYTE_COUNT	283422
+SHUFFLE	COPY_MAP_DATA	18550000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1692303
+SHUFFLE	COMPRESS_BYTE_COUNT	505015
+SHUFFLE	COPY_MAP_DATA	278003000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1564536
+SHUFFLE	COMPRESS_BYTE_COUNT	462457
+SHUFFLE	COPY_MAP_DATA	93921000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1829349
+SHUFFLE	COMPRESS_BYTE_COUNT	533312
+SHUFFLE	COPY_MAP_DATA	1382269000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1011291
+SHUFFLE	COMPRESS_BYTE_COUNT	294654
+SHUFFLE	COPY_MAP_DATA	38169000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	988219
+SHUFFLE	COMPRESS_BYTE_COUNT	290402
+SHUFFLE	COPY_MAP_DATA	39072000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1744648
+SHUFFLE	COMPRESS_BYTE_COUNT	490846
+SHUFFLE	COPY_MAP_DATA	27164000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1020196
+SHUFFLE	COMPRESS_BYTE_COUNT	300708
+SHUFFLE	COPY_MAP_DATA	17829000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	929201
+SHUFFLE	COMPRESS_BYTE_COUNT	288882
+SHUFFLE	COPY_MAP_DATA	289151000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	998424
+SHUFFLE	COMPRESS_BYTE_COUNT	294838
+SHUFFLE	COPY_MAP_DATA	44105000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1021470
+SHUFFLE	COMPRESS_BYTE_COUNT	291744
+SHUFFLE	COPY_MAP_DATA	63852000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1009415
+SHUFFLE	COMPRESS_BYTE_COUNT	271896
+SHUFFLE	COPY_MAP_DATA	411982000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1011405
+SHUFFLE	COMPRESS_BYTE_COUNT	304748
+SHUFFLE	COPY_MAP_DATA	567178000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	959865
+SHUFFLE	COMPRESS_BYTE_COUNT	289690
+SHUFFLE	COPY_MAP_DATA	65200000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1038107
+SHUFFLE	COMPRESS_BYTE_COUNT	297048
+SHUFFLE	COPY_MAP_DATA	275315000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	975658
+SHUFFLE	COMPRESS_BYTE_COUNT	292624
+SHUFFLE	COPY_MAP_DATA	242318000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	974882
+SHUFFLE	COMPRESS_BYTE_COUNT	290670
+SHUFFLE	COPY_MAP_DATA	69419000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1011357
+SHUFFLE	COMPRESS_BYTE_COUNT	302657
+SHUFFLE	COPY_MAP_DATA	9515899000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	970519
+SHUFFLE	COMPRESS_BYTE_COUNT	295660
+SHUFFLE	COPY_MAP_DATA	30669000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	995703
+SHUFFLE	COMPRESS_BYTE_COUNT	295198
+SHUFFLE	COPY_MAP_DATA	29888000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	990188
+SHUFFLE	COMPRESS_BYTE_COUNT	297279
+SHUFFLE	COPY_MAP_DATA	25720000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1165158
+SHUFFLE	COMPRESS_BYTE_COUNT	305071
+SHUFFLE	COPY_MAP_DATA	54546000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1032545
+SHUFFLE	COMPRESS_BYTE_COUNT	297369
+SHUFFLE	COPY_MAP_DATA	26941000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1040231
+SHUFFLE	COMPRESS_BYTE_COUNT	312442
+SHUFFLE	COPY_MAP_DATA	18383000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	966044
+SHUFFLE	COMPRESS_BYTE_COUNT	286615
+SHUFFLE	COPY_MAP_DATA	16984000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	972429
+SHUFFLE	COMPRESS_BYTE_COUNT	298054
+SHUFFLE	COPY_MAP_DATA	17765000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	993839
+SHUFFLE	COMPRESS_BYTE_COUNT	302007
+SHUFFLE	COPY_MAP_DATA	17702000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	980680
+SHUFFLE	COMPRESS_BYTE_COUNT	299482
+SHUFFLE	COPY_MAP_DATA	159644000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	984827
+SHUFFLE	COMPRESS_BYTE_COUNT	298300
+SHUFFLE	COPY_MAP_DATA	16463000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	981923
+SHUFFLE	COMPRESS_BYTE_COUNT	297460
+SHUFFLE	COPY_MAP_DATA	18579000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	922802
+SHUFFLE	COMPRESS_BYTE_COUNT	288438
+SHUFFLE	COPY_MAP_DATA	16844000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	978001
+SHUFFLE	COMPRESS_BYTE_COUNT	293705
+SHUFFLE	COPY_MAP_DATA	17188000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1040040
+SHUFFLE	COMPRESS_BYTE_COUNT	307357
+SHUFFLE	COPY_MAP_DATA	2833787000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	920910
+SHUFFLE	COMPRESS_BYTE_COUNT	275852
+SHUFFLE	COPY_MAP_DATA	96360000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1101760
+SHUFFLE	COMPRESS_BYTE_COUNT	306401
+SHUFFLE	COPY_MAP_DATA	17305000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	997131
+SHUFFLE	COMPRESS_BYTE_COUNT	303027
+SHUFFLE	COPY_MAP_DATA	17072000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	995502
+SHUFFLE	COMPRESS_BYTE_COUNT	295054
+SHUFFLE	COPY_MAP_DATA	24243000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	991311
+SHUFFLE	COMPRESS_BYTE_COUNT	308302
+SHUFFLE	COPY_MAP_DATA	28965000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	988146
+SHUFFLE	COMPRESS_BYTE_COUNT	290933
+SHUFFLE	COPY_MAP_DATA	17144000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1011683
+SHUFFLE	COMPRESS_BYTE_COUNT	305986
+SHUFFLE	COPY_MAP_DATA	38098000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	960200
+SHUFFLE	COMPRESS_BYTE_COUNT	300046
+SHUFFLE	COPY_MAP_DATA	17556000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	934409
+SHUFFLE	COMPRESS_BYTE_COUNT	294943
+SHUFFLE	COPY_MAP_DATA	99956000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1054935
+SHUFFLE	COMPRESS_BYTE_COUNT	276220
+SHUFFLE	COPY_MAP_DATA	44082000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1025843
+SHUFFLE	COMPRESS_BYTE_COUNT	283660
+SHUFFLE	COPY_MAP_DATA	17862000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	938221
+SHUFFLE	COMPRESS_BYTE_COUNT	285302
+SHUFFLE	COPY_MAP_DATA	16676000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	981939
+SHUFFLE	COMPRESS_BYTE_COUNT	300633
+SHUFFLE	COPY_MAP_DATA	16254000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	927409
+SHUFFLE	COMPRESS_BYTE_COUNT	290026
+SHUFFLE	COPY_MAP_DATA	45176000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1074560
+SHUFFLE	COMPRESS_BYTE_COUNT	298264
+SHUFFLE	COPY_MAP_DATA	41573000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	960725
+SHUFFLE	COMPRESS_BYTE_COUNT	292923
+SHUFFLE	COPY_MAP_DATA	31611000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1025174
+SHUFFLE	COMPRESS_BYTE_COUNT	302422
+SHUFFLE	COPY_MAP_DATA	99063000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	941834
+SHUFFLE	COMPRESS_BYTE_COUNT	294878
+SHUFFLE	COPY_MAP_DATA	55389000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	944004
+SHUFFLE	COMPRESS_BYTE_COUNT	294733
+SHUFFLE	COPY_MAP_DATA	61307000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1012898
+SHUFFLE	COMPRESS_BYTE_COUNT	299085
+SHUFFLE	COPY_MAP_DATA	18187000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	977466
+SHUFFLE	COMPRESS_BYTE_COUNT	291071
+SHUFFLE	COPY_MAP_DATA	17075000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	998945
+SHUFFLE	COMPRESS_BYTE_COUNT	296732
+SHUFFLE	COPY_MAP_DATA	1760073000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	900764
+SHUFFLE	COMPRESS_BYTE_COUNT	285662
+SHUFFLE	COPY_MAP_DATA	16271000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1005403
+SHUFFLE	COMPRESS_BYTE_COUNT	301810
+SHUFFLE	COPY_MAP_DATA	17666000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	945941
+SHUFFLE	COMPRESS_BYTE_COUNT	294188
+SHUFFLE	COPY_MAP_DATA	21927000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	942434
+SHUFFLE	COMPRESS_BYTE_COUNT	295067
+SHUFFLE	COPY_MAP_DATA	337350000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	991795
+SHUFFLE	COMPRESS_BYTE_COUNT	294232
+SHUFFLE	COPY_MAP_DATA	26330000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	886489
+SHUFFLE	COMPRESS_BYTE_COUNT	279196
+SHUFFLE	COPY_MAP_DATA	52387000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	972784
+SHUFFLE	COMPRESS_BYTE_COUNT	298483
+SHUFFLE	COPY_MAP_DATA	15049000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	912724
+SHUFFLE	COMPRESS_BYTE_COUNT	281855
+SHUFFLE	COPY_MAP_DATA	14156000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	911422
+SHUFFLE	COMPRESS_BYTE_COUNT	281147
+SHUFFLE	COPY_MAP_DATA	40795000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	967487
+SHUFFLE	COMPRESS_BYTE_COUNT	295733
+SHUFFLE	COPY_MAP_DATA	16389000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	897915
+SHUFFLE	COMPRESS_BYTE_COUNT	281398
+SHUFFLE	COPY_MAP_DATA	74923000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	942353
+SHUFFLE	COMPRESS_BYTE_COUNT	290221
+SHUFFLE	COPY_MAP_DATA	132993000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	967827
+SHUFFLE	COMPRESS_BYTE_COUNT	302399
+SHUFFLE	COPY_MAP_DATA	16471000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	901078
+SHUFFLE	COMPRESS_BYTE_COUNT	276237
+SHUFFLE	COPY_MAP_DATA	15416000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	986697
+SHUFFLE	COMPRESS_BYTE_COUNT	297550
+SHUFFLE	COPY_MAP_DATA	49348000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	983350
+SHUFFLE	COMPRESS_BYTE_COUNT	295414
+SHUFFLE	COPY_MAP_DATA	16802000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	904967
+SHUFFLE	COMPRESS_BYTE_COUNT	283073
+SHUFFLE	COPY_MAP_DATA	15737000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	879875
+SHUFFLE	COMPRESS_BYTE_COUNT	270404
+SHUFFLE	COPY_MAP_DATA	587682000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	891758
+SHUFFLE	COMPRESS_BYTE_COUNT	279351
+SHUFFLE	COPY_MAP_DATA	56705000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	922272
+SHUFFLE	COMPRESS_BYTE_COUNT	290411
+SHUFFLE	COPY_MAP_DATA	86155000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	920321
+SHUFFLE	COMPRESS_BYTE_COUNT	291087
+SHUFFLE	COPY_MAP_DATA	17091000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	933037
+SHUFFLE	COMPRESS_BYTE_COUNT	293767
+SHUFFLE	COPY_MAP_DATA	16493000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	889013
+SHUFFLE	COMPRESS_BYTE_COUNT	277322
+SHUFFLE	COPY_MAP_DATA	383751000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	946737
+SHUFFLE	COMPRESS_BYTE_COUNT	295687
+SHUFFLE	COPY_MAP_DATA	33328000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	888020
+SHUFFLE	COMPRESS_BYTE_COUNT	282059
+SHUFFLE	COPY_MAP_DATA	368909000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	947859
+SHUFFLE	COMPRESS_BYTE_COUNT	294264
+SHUFFLE	COPY_MAP_DATA	16703000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	930894
+SHUFFLE	COMPRESS_BYTE_COUNT	281074
+SHUFFLE	COPY_MAP_DATA	222594000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	923072
+SHUFFLE	COMPRESS_BYTE_COUNT	288341
+SHUFFLE	COPY_MAP_DATA	81048000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	899983
+SHUFFLE	COMPRESS_BYTE_COUNT	275401
+SHUFFLE	COPY_MAP_DATA	1975184000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	899625
+SHUFFLE	COMPRESS_BYTE_COUNT	272682
+SHUFFLE	COPY_MAP_DATA	443515000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	922106
+SHUFFLE	COMPRESS_BYTE_COUNT	284046
+SHUFFLE	COPY_MAP_DATA	407327000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	876776
+SHUFFLE	COMPRESS_BYTE_COUNT	259015
+SHUFFLE	COPY_MAP_DATA	217979000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	902152
+SHUFFLE	COMPRESS_BYTE_COUNT	281134
+SHUFFLE	COPY_MAP_DATA	21765000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	857780
+SHUFFLE	COMPRESS_BYTE_COUNT	269026
+SHUFFLE	COPY_MAP_DATA	2070855000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	948668
+SHUFFLE	COMPRESS_BYTE_COUNT	280219
+SHUFFLE	COPY_MAP_DATA	37032000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	907985
+SHUFFLE	COMPRESS_BYTE_COUNT	273665
+SHUFFLE	COPY_MAP_DATA	312292000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	849376
+SHUFFLE	COMPRESS_BYTE_COUNT	267707
+SHUFFLE	COPY_MAP_DATA	362810000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	937824
+SHUFFLE	COMPRESS_BYTE_COUNT	291922
+SHUFFLE	COPY_MAP_DATA	53583000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	932895
+SHUFFLE	COMPRESS_BYTE_COUNT	288264
+SHUFFLE	COPY_MAP_DATA	26171000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	840985
+SHUFFLE	COMPRESS_BYTE_COUNT	255096
+SHUFFLE	COPY_MAP_DATA	13152000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	884142
+SHUFFLE	COMPRESS_BYTE_COUNT	261831
+SHUFFLE	COPY_MAP_DATA	63993000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	917240
+SHUFFLE	COMPRESS_BYTE_COUNT	280827
+SHUFFLE	COPY_MAP_DATA	15654000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	829020
+SHUFFLE	COMPRESS_BYTE_COUNT	266732
+SHUFFLE	COPY_MAP_DATA	15317000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	933602
+SHUFFLE	COMPRESS_BYTE_COUNT	289447
+SHUFFLE	COPY_MAP_DATA	135855000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	829828
+SHUFFLE	COMPRESS_BYTE_COUNT	253688
+SHUFFLE	COPY_MAP_DATA	10068306000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	799523
+SHUFFLE	COMPRESS_BYTE_COUNT	243994
+SHUFFLE	COPY_MAP_DATA	559579000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	929577
+SHUFFLE	COMPRESS_BYTE_COUNT	272402
+SHUFFLE	COPY_MAP_DATA	478620000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	835567
+SHUFFLE	COMPRESS_BYTE_COUNT	251635
+SHUFFLE	COPY_MAP_DATA	71399000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	832945
+SHUFFLE	COMPRESS_BYTE_COUNT	251609
+SHUFFLE	COPY_MAP_DATA	15843000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	830707
+SHUFFLE	COMPRESS_BYTE_COUNT	252941
+SHUFFLE	COPY_MAP_DATA	32552000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	832199
+SHUFFLE	COMPRESS_BYTE_COUNT	268170
+SHUFFLE	COPY_MAP_DATA	15647000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	967480
+SHUFFLE	COMPRESS_BYTE_COUNT	279216
+SHUFFLE	COPY_MAP_DATA	101177000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	867787
+SHUFFLE	COMPRESS_BYTE_COUNT	258380
+SHUFFLE	COPY_MAP_DATA	14724000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	850990
+SHUFFLE	COMPRESS_BYTE_COUNT	260292
+SHUFFLE	COPY_MAP_DATA	14131000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	991272
+SHUFFLE	COMPRESS_BYTE_COUNT	292388
+SHUFFLE	COPY_MAP_DATA	18883000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	855875
+SHUFFLE	COMPRESS_BYTE_COUNT	247431
+SHUFFLE	COPY_MAP_DATA	118438000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	841114
+SHUFFLE	COMPRESS_BYTE_COUNT	257380
+SHUFFLE	COPY_MAP_DATA	2708033000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	783911
+SHUFFLE	COMPRESS_BYTE_COUNT	244675
+SHUFFLE	COPY_MAP_DATA	14454000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	859638
+SHUFFLE	COMPRESS_BYTE_COUNT	260093
+SHUFFLE	COPY_MAP_DATA	13806000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	745724
+SHUFFLE	COMPRESS_BYTE_COUNT	232138
+SHUFFLE	COPY_MAP_DATA	14099000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1302869
+SHUFFLE	COMPRESS_BYTE_COUNT	242353
+SHUFFLE	COPY_MAP_DATA	28037000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	880167
+SHUFFLE	COMPRESS_BYTE_COUNT	266937
+SHUFFLE	COPY_MAP_DATA	276052000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	946161
+SHUFFLE	COMPRESS_BYTE_COUNT	283729
+SHUFFLE	COPY_MAP_DATA	16189000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	864411
+SHUFFLE	COMPRESS_BYTE_COUNT	258967
+SHUFFLE	COPY_MAP_DATA	2676871000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	807959
+SHUFFLE	COMPRESS_BYTE_COUNT	247294
+SHUFFLE	COPY_MAP_DATA	15421000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	785080
+SHUFFLE	COMPRESS_BYTE_COUNT	239071
+SHUFFLE	COPY_MAP_DATA	25966000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	756185
+SHUFFLE	COMPRESS_BYTE_COUNT	231590
+SHUFFLE	COPY_MAP_DATA	47322000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	792126
+SHUFFLE	COMPRESS_BYTE_COUNT	238885
+SHUFFLE	COPY_MAP_DATA	14593000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	839560
+SHUFFLE	COMPRESS_BYTE_COUNT	252304
+SHUFFLE	COPY_MAP_DATA	286333000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	813475
+SHUFFLE	COMPRESS_BYTE_COUNT	252252
+SHUFFLE	COPY_MAP_DATA	15147000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	812496
+SHUFFLE	COMPRESS_BYTE_COUNT	245574
+SHUFFLE	COPY_MAP_DATA	13439000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	771170
+SHUFFLE	COMPRESS_BYTE_COUNT	237040
+SHUFFLE	COPY_MAP_DATA	22557000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	844178
+SHUFFLE	COMPRESS_BYTE_COUNT	246827
+SHUFFLE	COPY_MAP_DATA	14701000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	834917
+SHUFFLE	COMPRESS_BYTE_COUNT	253703
+SHUFFLE	COPY_MAP_DATA	14269000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	791190
+SHUFFLE	COMPRESS_BYTE_COUNT	245828
+SHUFFLE	COPY_MAP_DATA	38281000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	794668
+SHUFFLE	COMPRESS_BYTE_COUNT	236765
+SHUFFLE	COPY_MAP_DATA	150809000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	938607
+SHUFFLE	COMPRESS_BYTE_COUNT	279276
+SHUFFLE	COPY_MAP_DATA	15644000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	862491
+SHUFFLE	COMPRESS_BYTE_COUNT	264995
+SHUFFLE	COPY_MAP_DATA	14254000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	835382
+SHUFFLE	COMPRESS_BYTE_COUNT	260455
+SHUFFLE	COPY_MAP_DATA	5562358000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	806020
+SHUFFLE	COMPRESS_BYTE_COUNT	243476
+SHUFFLE	COPY_MAP_DATA	857880000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	786139
+SHUFFLE	COMPRESS_BYTE_COUNT	238863
+SHUFFLE	COPY_MAP_DATA	770740000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	883523
+SHUFFLE	COMPRESS_BYTE_COUNT	237820
+SHUFFLE	COPY_MAP_DATA	77440000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	869497
+SHUFFLE	COMPRESS_BYTE_COUNT	256555
+SHUFFLE	COPY_MAP_DATA	182071000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1140387
+SHUFFLE	COMPRESS_BYTE_COUNT	358888
+SHUFFLE	COPY_MAP_DATA	165113000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	805808
+SHUFFLE	COMPRESS_BYTE_COUNT	240104
+SHUFFLE	COPY_MAP_DATA	12809000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	778005
+SHUFFLE	COMPRESS_BYTE_COUNT	237280
+SHUFFLE	COPY_MAP_DATA	3221236000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	778935
+SHUFFLE	COMPRESS_BYTE_COUNT	235206
+SHUFFLE	COPY_MAP_DATA	481985000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	847731
+SHUFFLE	COMPRESS_BYTE_COUNT	259683
+SHUFFLE	COPY_MAP_DATA	88535000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	753460
+SHUFFLE	COMPRESS_BYTE_COUNT	234885
+SHUFFLE	COPY_MAP_DATA	656519000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	775359
+SHUFFLE	COMPRESS_BYTE_COUNT	240476
+SHUFFLE	COPY_MAP_DATA	13248000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	734632
+SHUFFLE	COMPRESS_BYTE_COUNT	228786
+SHUFFLE	COPY_MAP_DATA	207073000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1142328
+SHUFFLE	COMPRESS_BYTE_COUNT	302917
+SHUFFLE	COPY_MAP_DATA	3032820000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	816076
+SHUFFLE	COMPRESS_BYTE_COUNT	244786
+SHUFFLE	COPY_MAP_DATA	170889000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	854435
+SHUFFLE	COMPRESS_BYTE_COUNT	265119
+SHUFFLE	COPY_MAP_DATA	2783889278
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	748557
+SHUFFLE	COMPRESS_BYTE_COUNT	229325
+SHUFFLE	COPY_MAP_DATA	222154000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	938856
+SHUFFLE	COMPRESS_BYTE_COUNT	279102
+SHUFFLE	COPY_MAP_DATA	2332158000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	780214
+SHUFFLE	COMPRESS_BYTE_COUNT	230086
+SHUFFLE	COPY_MAP_DATA	358875000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	796248
+SHUFFLE	COMPRESS_BYTE_COUNT	240253
+SHUFFLE	COPY_MAP_DATA	46428000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	743681
+SHUFFLE	COMPRESS_BYTE_COUNT	224256
+SHUFFLE	COPY_MAP_DATA	12632000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	747827
+SHUFFLE	COMPRESS_BYTE_COUNT	233049
+SHUFFLE	COPY_MAP_DATA	154027000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	776008
+SHUFFLE	COMPRESS_BYTE_COUNT	238607
+SHUFFLE	COPY_MAP_DATA	639523000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	815141
+SHUFFLE	COMPRESS_BYTE_COUNT	242494
+SHUFFLE	COPY_MAP_DATA	187216000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	796821
+SHUFFLE	COMPRESS_BYTE_COUNT	239117
+SHUFFLE	COPY_MAP_DATA	8124930000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	739271
+SHUFFLE	COMPRESS_BYTE_COUNT	220586
+SHUFFLE	COPY_MAP_DATA	259811000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	831549
+SHUFFLE	COMPRESS_BYTE_COUNT	247291
+SHUFFLE	COPY_MAP_DATA	15870000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	785573
+SHUFFLE	COMPRESS_BYTE_COUNT	236324
+SHUFFLE	COPY_MAP_DATA	141599000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	755425
+SHUFFLE	COMPRESS_BYTE_COUNT	229771
+SHUFFLE	COPY_MAP_DATA	558154000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	727245
+SHUFFLE	COMPRESS_BYTE_COUNT	223339
+SHUFFLE	COPY_MAP_DATA	13714000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1020475
+SHUFFLE	COMPRESS_BYTE_COUNT	334670
+SHUFFLE	COPY_MAP_DATA	18761000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	936545
+SHUFFLE	COMPRESS_BYTE_COUNT	253427
+SHUFFLE	COPY_MAP_DATA	16146000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	986490
+SHUFFLE	COMPRESS_BYTE_COUNT	276481
+SHUFFLE	COPY_MAP_DATA	1472229000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	744324
+SHUFFLE	COMPRESS_BYTE_COUNT	225213
+SHUFFLE	COPY_MAP_DATA	22925000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	795109
+SHUFFLE	COMPRESS_BYTE_COUNT	236102
+SHUFFLE	COPY_MAP_DATA	34734000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	816812
+SHUFFLE	COMPRESS_BYTE_COUNT	256243
+SHUFFLE	COPY_MAP_DATA	97042000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	782338
+SHUFFLE	COMPRESS_BYTE_COUNT	233811
+SHUFFLE	COPY_MAP_DATA	102834000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	857977
+SHUFFLE	COMPRESS_BYTE_COUNT	255117
+SHUFFLE	COPY_MAP_DATA	13519000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	883997
+SHUFFLE	COMPRESS_BYTE_COUNT	261896
+SHUFFLE	COPY_MAP_DATA	6392535000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	867755
+SHUFFLE	COMPRESS_BYTE_COUNT	261076
+SHUFFLE	COPY_MAP_DATA	57883000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	769947
+SHUFFLE	COMPRESS_BYTE_COUNT	229712
+SHUFFLE	COPY_MAP_DATA	13941000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	766854
+SHUFFLE	COMPRESS_BYTE_COUNT	232752
+SHUFFLE	COPY_MAP_DATA	13778000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	872251
+SHUFFLE	COMPRESS_BYTE_COUNT	257548
+SHUFFLE	COPY_MAP_DATA	365245000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	832760
+SHUFFLE	COMPRESS_BYTE_COUNT	245429
+SHUFFLE	COPY_MAP_DATA	15212000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	836671
+SHUFFLE	COMPRESS_BYTE_COUNT	252365
+SHUFFLE	COPY_MAP_DATA	221618000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	737169
+SHUFFLE	COMPRESS_BYTE_COUNT	227622
+SHUFFLE	COPY_MAP_DATA	13311000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	915410
+SHUFFLE	COMPRESS_BYTE_COUNT	268273
+SHUFFLE	COPY_MAP_DATA	621881000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	774919
+SHUFFLE	COMPRESS_BYTE_COUNT	237790
+SHUFFLE	COPY_MAP_DATA	34373000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	785371
+SHUFFLE	COMPRESS_BYTE_COUNT	236089
+SHUFFLE	COPY_MAP_DATA	13572000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	837417
+SHUFFLE	COMPRESS_BYTE_COUNT	256330
+SHUFFLE	COPY_MAP_DATA	15446000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	815413
+SHUFFLE	COMPRESS_BYTE_COUNT	241875
+SHUFFLE	COPY_MAP_DATA	7689041000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	868791
+SHUFFLE	COMPRESS_BYTE_COUNT	252927
+SHUFFLE	COPY_MAP_DATA	30385000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	763107
+SHUFFLE	COMPRESS_BYTE_COUNT	234253
+SHUFFLE	COPY_MAP_DATA	33791000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	752225
+SHUFFLE	COMPRESS_BYTE_COUNT	228088
+SHUFFLE	COPY_MAP_DATA	215954000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	713136
+SHUFFLE	COMPRESS_BYTE_COUNT	216876
+SHUFFLE	COPY_MAP_DATA	133463000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1085754
+SHUFFLE	COMPRESS_BYTE_COUNT	322690
+SHUFFLE	COPY_MAP_DATA	29746000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	847694
+SHUFFLE	COMPRESS_BYTE_COUNT	247258
+SHUFFLE	COPY_MAP_DATA	35594000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	848571
+SHUFFLE	COMPRESS_BYTE_COUNT	255253
+SHUFFLE	COPY_MAP_DATA	14859000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1286139
+SHUFFLE	COMPRESS_BYTE_COUNT	216975
+SHUFFLE	COPY_MAP_DATA	15067000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	691801
+SHUFFLE	COMPRESS_BYTE_COUNT	205077
+SHUFFLE	COPY_MAP_DATA	12055000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	752408
+SHUFFLE	COMPRESS_BYTE_COUNT	222921
+SHUFFLE	COPY_MAP_DATA	13042000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	800794
+SHUFFLE	COMPRESS_BYTE_COUNT	241831
+SHUFFLE	COPY_MAP_DATA	13018000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	825466
+SHUFFLE	COMPRESS_BYTE_COUNT	247687
+SHUFFLE	COPY_MAP_DATA	24774000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	737169
+SHUFFLE	COMPRESS_BYTE_COUNT	227622
+SHUFFLE	COPY_MAP_DATA	13110000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	781194
+SHUFFLE	COMPRESS_BYTE_COUNT	233437
+SHUFFLE	COPY_MAP_DATA	14379000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	848557
+SHUFFLE	COMPRESS_BYTE_COUNT	257481
+SHUFFLE	COPY_MAP_DATA	14849000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1748648
+SHUFFLE	COMPRESS_BYTE_COUNT	210862
+SHUFFLE	COPY_MAP_DATA	16825000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	945354
+SHUFFLE	COMPRESS_BYTE_COUNT	285913
+SHUFFLE	COPY_MAP_DATA	17515000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	797205
+SHUFFLE	COMPRESS_BYTE_COUNT	248981
+SHUFFLE	COPY_MAP_DATA	14253000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	687448
+SHUFFLE	COMPRESS_BYTE_COUNT	207521
+SHUFFLE	COPY_MAP_DATA	11956000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	771332
+SHUFFLE	COMPRESS_BYTE_COUNT	223319
+SHUFFLE	COPY_MAP_DATA	70621000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	829240
+SHUFFLE	COMPRESS_BYTE_COUNT	239394
+SHUFFLE	COPY_MAP_DATA	33000000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	767333
+SHUFFLE	COMPRESS_BYTE_COUNT	225348
+SHUFFLE	COPY_MAP_DATA	12246000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	770453
+SHUFFLE	COMPRESS_BYTE_COUNT	230761
+SHUFFLE	COPY_MAP_DATA	20292000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	862542
+SHUFFLE	COMPRESS_BYTE_COUNT	286301
+SHUFFLE	COPY_MAP_DATA	25785000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	979803
+SHUFFLE	COMPRESS_BYTE_COUNT	315213
+SHUFFLE	COPY_MAP_DATA	17989000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	766891
+SHUFFLE	COMPRESS_BYTE_COUNT	231319
+SHUFFLE	COPY_MAP_DATA	40663000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	841315
+SHUFFLE	COMPRESS_BYTE_COUNT	254474
+SHUFFLE	COPY_MAP_DATA	53407000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	267276105278
+MERGE	READ_WRITE	266976966278
+MERGE	READ_WRITE_COUNT	2
+MERGE	COMBINE	0
+MERGE	WRITE	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	38627791000
+SORT	READ_WRITE	38480090000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	192438920
+REDUCE	SETUP	292000
+REDUCE	SETUP_MEM	192438920
+REDUCE	CLEANUP	36000
+REDUCE	CLEANUP_MEM	199354104
+REDUCE	TOTAL_RUN	98527268000
+REDUCE	READ	8587407000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	83787524000
+REDUCE	WRITE	28163453000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	73041438
+REDUCE	VALUE_BYTE_COUNT	65151560
+REDUCE	REDUCE_MEM	199356152
+REDUCE	WRITE	18949000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	764850136278
@@ -0,0 +1,1333 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2040428
+SHUFFLE	COMPRESS_BYTE_COUNT	565706
+SHUFFLE	COPY_MAP_DATA	1729141000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1974020
+SHUFFLE	COMPRESS_BYTE_COUNT	536253
+SHUFFLE	COPY_MAP_DATA	49539000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2101891
+SHUFFLE	COMPRESS_BYTE_COUNT	569785
+SHUFFLE	COPY_MAP_DATA	48996000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2041126
+SHUFFLE	COMPRESS_BYTE_COUNT	574530
+SHUFFLE	COPY_MAP_DATA	33822000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1986450
+SHUFFLE	COMPRESS_BYTE_COUNT	583640
+SHUFFLE	COPY_MAP_DATA	83144000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1966418
+SHUFFLE	COMPRESS_BYTE_COUNT	570001
+SHUFFLE	COPY_MAP_DATA	409212000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1983728
+SHUFFLE	COMPRESS_BYTE_COUNT	567365
+SHUFFLE	COPY_MAP_DATA	149896000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2083521
+SHUFFLE	COMPRESS_BYTE_COUNT	579866
+SHUFFLE	COPY_MAP_DATA	107012000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2038474
+SHUFFLE	COMPRESS_BYTE_COUNT	555493
+SHUFFLE	COPY_MAP_DATA	49120000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2072806
+SHUFFLE	COMPRESS_BYTE_COUNT	589184
+SHUFFLE	COPY_MAP_DATA	60704000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1983209
+SHUFFLE	COMPRESS_BYTE_COUNT	577928
+SHUFFLE	COPY_MAP_DATA	160574000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1884060
+SHUFFLE	COMPRESS_BYTE_COUNT	480557
+SHUFFLE	COPY_MAP_DATA	50814000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2138705
+SHUFFLE	COMPRESS_BYTE_COUNT	571418
+SHUFFLE	COPY_MAP_DATA	123032000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1728021
+SHUFFLE	COMPRESS_BYTE_COUNT	477409
+SHUFFLE	COPY_MAP_DATA	93632000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1864911
+SHUFFLE	COMPRESS_BYTE_COUNT	553716
+SHUFFLE	COPY_MAP_DATA	142923000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2076321
+SHUFFLE	COMPRESS_BYTE_COUNT	574083
+SHUFFLE	COPY_MAP_DATA	32634000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2150482
+SHUFFLE	COMPRESS_BYTE_COUNT	573193
+SHUFFLE	COPY_MAP_DATA	250789000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2093972
+SHUFFLE	COMPRESS_BYTE_COUNT	587920
+SHUFFLE	COPY_MAP_DATA	35044000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2053460
+SHUFFLE	COMPRESS_BYTE_COUNT	579000
+SHUFFLE	COPY_MAP_DATA	111963000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1970676
+SHUFFLE	COMPRESS_BYTE_COUNT	571144
+SHUFFLE	COPY_MAP_DATA	34048000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2135497
+SHUFFLE	COMPRESS_BYTE_COUNT	563600
+SHUFFLE	COPY_MAP_DATA	50088000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2013279
+SHUFFLE	COMPRESS_BYTE_COUNT	568769
+SHUFFLE	COPY_MAP_DATA	34992000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2225370
+SHUFFLE	COMPRESS_BYTE_COUNT	593172
+SHUFFLE	COPY_MAP_DATA	166636000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1970596
+SHUFFLE	COMPRESS_BYTE_COUNT	571110
+SHUFFLE	COPY_MAP_DATA	56001000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1981688
+SHUFFLE	COMPRESS_BYTE_COUNT	577328
+SHUFFLE	COPY_MAP_DATA	218091000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2142209
+SHUFFLE	COMPRESS_BYTE_COUNT	573259
+SHUFFLE	COPY_MAP_DATA	31193000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1981255
+SHUFFLE	COMPRESS_BYTE_COUNT	577367
+SHUFFLE	COPY_MAP_DATA	180780000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1817438
+SHUFFLE	COMPRESS_BYTE_COUNT	493369
+SHUFFLE	COPY_MAP_DATA	24739000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2095089
+SHUFFLE	COMPRESS_BYTE_COUNT	554951
+SHUFFLE	COPY_MAP_DATA	27671000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2012225
+SHUFFLE	COMPRESS_BYTE_COUNT	579405
+SHUFFLE	COPY_MAP_DATA	28188000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1885800
+SHUFFLE	COMPRESS_BYTE_COUNT	551068
+SHUFFLE	COPY_MAP_DATA	30949000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1912392
+SHUFFLE	COMPRESS_BYTE_COUNT	562122
+SHUFFLE	COPY_MAP_DATA	44236000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1801800
+SHUFFLE	COMPRESS_BYTE_COUNT	537931
+SHUFFLE	COPY_MAP_DATA	37440000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1856741
+SHUFFLE	COMPRESS_BYTE_COUNT	550631
+SHUFFLE	COPY_MAP_DATA	45487000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2016288
+SHUFFLE	COMPRESS_BYTE_COUNT	574643
+SHUFFLE	COPY_MAP_DATA	32022000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1875272
+SHUFFLE	COMPRESS_BYTE_COUNT	557777
+SHUFFLE	COPY_MAP_DATA	29851000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1984008
+SHUFFLE	COMPRESS_BYTE_COUNT	579885
+SHUFFLE	COPY_MAP_DATA	30843000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1923668
+SHUFFLE	COMPRESS_BYTE_COUNT	569529
+SHUFFLE	COPY_MAP_DATA	56092000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1879690
+SHUFFLE	COMPRESS_BYTE_COUNT	551964
+SHUFFLE	COPY_MAP_DATA	29593000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1921051
+SHUFFLE	COMPRESS_BYTE_COUNT	561176
+SHUFFLE	COPY_MAP_DATA	26984000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2040727
+SHUFFLE	COMPRESS_BYTE_COUNT	578721
+SHUFFLE	COPY_MAP_DATA	51945000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1927379
+SHUFFLE	COMPRESS_BYTE_COUNT	561372
+SHUFFLE	COPY_MAP_DATA	51632000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1575977
+SHUFFLE	COMPRESS_BYTE_COUNT	423761
+SHUFFLE	COPY_MAP_DATA	21666000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1570930
+SHUFFLE	COMPRESS_BYTE_COUNT	461712
+SHUFFLE	COPY_MAP_DATA	45947000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1781217
+SHUFFLE	COMPRESS_BYTE_COUNT	539841
+SHUFFLE	COPY_MAP_DATA	312001000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1986488
+SHUFFLE	COMPRESS_BYTE_COUNT	572990
+SHUFFLE	COPY_MAP_DATA	152190000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1908639
+SHUFFLE	COMPRESS_BYTE_COUNT	558106
+SHUFFLE	COPY_MAP_DATA	37606000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1881836
+SHUFFLE	COMPRESS_BYTE_COUNT	559895
+SHUFFLE	COPY_MAP_DATA	27187000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1677518
+SHUFFLE	COMPRESS_BYTE_COUNT	487355
+SHUFFLE	COPY_MAP_DATA	70520000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1689833
+SHUFFLE	COMPRESS_BYTE_COUNT	497566
+SHUFFLE	COPY_MAP_DATA	28145000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1745520
+SHUFFLE	COMPRESS_BYTE_COUNT	493116
+SHUFFLE	COPY_MAP_DATA	297412000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1775979
+SHUFFLE	COMPRESS_BYTE_COUNT	507601
+SHUFFLE	COPY_MAP_DATA	28348000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1917617
+SHUFFLE	COMPRESS_BYTE_COUNT	538868
+SHUFFLE	COPY_MAP_DATA	29196000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1890086
+SHUFFLE	COMPRESS_BYTE_COUNT	557849
+SHUFFLE	COPY_MAP_DATA	33999000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1785692
+SHUFFLE	COMPRESS_BYTE_COUNT	508422
+SHUFFLE	COPY_MAP_DATA	1405879000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1941331
+SHUFFLE	COMPRESS_BYTE_COUNT	545775
+SHUFFLE	COPY_MAP_DATA	48419000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1832485
+SHUFFLE	COMPRESS_BYTE_COUNT	537768
+SHUFFLE	COPY_MAP_DATA	124628000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1980736
+SHUFFLE	COMPRESS_BYTE_COUNT	559888
+SHUFFLE	COPY_MAP_DATA	40942000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1951296
+SHUFFLE	COMPRESS_BYTE_COUNT	560581
+SHUFFLE	COPY_MAP_DATA	44518000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1771805
+SHUFFLE	COMPRESS_BYTE_COUNT	528069
+SHUFFLE	COPY_MAP_DATA	69197000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1658868
+SHUFFLE	COMPRESS_BYTE_COUNT	478679
+SHUFFLE	COPY_MAP_DATA	47897000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1844522
+SHUFFLE	COMPRESS_BYTE_COUNT	537416
+SHUFFLE	COPY_MAP_DATA	30506000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1645727
+SHUFFLE	COMPRESS_BYTE_COUNT	486343
+SHUFFLE	COPY_MAP_DATA	26083000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1636550
+SHUFFLE	COMPRESS_BYTE_COUNT	482049
+SHUFFLE	COPY_MAP_DATA	25762000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1540366
+SHUFFLE	COMPRESS_BYTE_COUNT	444764
+SHUFFLE	COPY_MAP_DATA	25102000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1672563
+SHUFFLE	COMPRESS_BYTE_COUNT	484041
+SHUFFLE	COPY_MAP_DATA	47903000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1673512
+SHUFFLE	COMPRESS_BYTE_COUNT	476242
+SHUFFLE	COPY_MAP_DATA	32852000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1683903
+SHUFFLE	COMPRESS_BYTE_COUNT	484592
+SHUFFLE	COPY_MAP_DATA	25699000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1671002
+SHUFFLE	COMPRESS_BYTE_COUNT	461799
+SHUFFLE	COPY_MAP_DATA	51222000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1579965
+SHUFFLE	COMPRESS_BYTE_COUNT	459044
+SHUFFLE	COPY_MAP_DATA	151787000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1732251
+SHUFFLE	COMPRESS_BYTE_COUNT	469782
+SHUFFLE	COPY_MAP_DATA	25144000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1956512
+SHUFFLE	COMPRESS_BYTE_COUNT	590552
+SHUFFLE	COPY_MAP_DATA	243974000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1892361
+SHUFFLE	COMPRESS_BYTE_COUNT	493115
+SHUFFLE	COPY_MAP_DATA	50384000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1564911
+SHUFFLE	COMPRESS_BYTE_COUNT	451330
+SHUFFLE	COPY_MAP_DATA	44739000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1668753
+SHUFFLE	COMPRESS_BYTE_COUNT	484417
+SHUFFLE	COPY_MAP_DATA	34157000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1626624
+SHUFFLE	COMPRESS_BYTE_COUNT	462953
+SHUFFLE	COPY_MAP_DATA	25618000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1698214
+SHUFFLE	COMPRESS_BYTE_COUNT	487630
+SHUFFLE	COPY_MAP_DATA	42689000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1647111
+SHUFFLE	COMPRESS_BYTE_COUNT	479188
+SHUFFLE	COPY_MAP_DATA	26031000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1774338
+SHUFFLE	COMPRESS_BYTE_COUNT	494637
+SHUFFLE	COPY_MAP_DATA	34642000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1875785
+SHUFFLE	COMPRESS_BYTE_COUNT	534306
+SHUFFLE	COPY_MAP_DATA	1613278000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1595299
+SHUFFLE	COMPRESS_BYTE_COUNT	479243
+SHUFFLE	COPY_MAP_DATA	205330000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1889585
+SHUFFLE	COMPRESS_BYTE_COUNT	572034
+SHUFFLE	COPY_MAP_DATA	2228724000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1717964
+SHUFFLE	COMPRESS_BYTE_COUNT	489147
+SHUFFLE	COPY_MAP_DATA	28016000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1646671
+SHUFFLE	COMPRESS_BYTE_COUNT	475141
+SHUFFLE	COPY_MAP_DATA	53311000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1705346
+SHUFFLE	COMPRESS_BYTE_COUNT	488053
+SHUFFLE	COPY_MAP_DATA	505848000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1790769
+SHUFFLE	COMPRESS_BYTE_COUNT	530867
+SHUFFLE	COPY_MAP_DATA	28249000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1870941
+SHUFFLE	COMPRESS_BYTE_COUNT	559605
+SHUFFLE	COPY_MAP_DATA	2637577000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	859323
+SHUFFLE	COMPRESS_BYTE_COUNT	239658
+SHUFFLE	COPY_MAP_DATA	21429000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1557842
+SHUFFLE	COMPRESS_BYTE_COUNT	450351
+SHUFFLE	COPY_MAP_DATA	86576000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1635892
+SHUFFLE	COMPRESS_BYTE_COUNT	456630
+SHUFFLE	COPY_MAP_DATA	25548000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1612921
+SHUFFLE	COMPRESS_BYTE_COUNT	460614
+SHUFFLE	COPY_MAP_DATA	367985000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1024739
+SHUFFLE	COMPRESS_BYTE_COUNT	269742
+SHUFFLE	COPY_MAP_DATA	26544000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	939315
+SHUFFLE	COMPRESS_BYTE_COUNT	272218
+SHUFFLE	COPY_MAP_DATA	129724000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	878125
+SHUFFLE	COMPRESS_BYTE_COUNT	250064
+SHUFFLE	COPY_MAP_DATA	14787000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	889967
+SHUFFLE	COMPRESS_BYTE_COUNT	250443
+SHUFFLE	COPY_MAP_DATA	16450000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	838056
+SHUFFLE	COMPRESS_BYTE_COUNT	245370
+SHUFFLE	COPY_MAP_DATA	17185000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2003837
+SHUFFLE	COMPRESS_BYTE_COUNT	495441
+SHUFFLE	COPY_MAP_DATA	30238000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1584913
+SHUFFLE	COMPRESS_BYTE_COUNT	459378
+SHUFFLE	COPY_MAP_DATA	46150000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1045883
+SHUFFLE	COMPRESS_BYTE_COUNT	300490
+SHUFFLE	COPY_MAP_DATA	18128000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1468294
+SHUFFLE	COMPRESS_BYTE_COUNT	432363
+SHUFFLE	COPY_MAP_DATA	23135000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1688520
+SHUFFLE	COMPRESS_BYTE_COUNT	479712
+SHUFFLE	COPY_MAP_DATA	403907000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1575918
+SHUFFLE	COMPRESS_BYTE_COUNT	460768
+SHUFFLE	COPY_MAP_DATA	484627000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1475651
+SHUFFLE	COMPRESS_BYTE_COUNT	426520
+SHUFFLE	COPY_MAP_DATA	147706000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1664109
+SHUFFLE	COMPRESS_BYTE_COUNT	489735
+SHUFFLE	COPY_MAP_DATA	305233000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1082138
+SHUFFLE	COMPRESS_BYTE_COUNT	302108
+SHUFFLE	COPY_MAP_DATA	16819000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1560780
+SHUFFLE	COMPRESS_BYTE_COUNT	448242
+SHUFFLE	COPY_MAP_DATA	75505000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1990707
+SHUFFLE	COMPRESS_BYTE_COUNT	567125
+SHUFFLE	COPY_MAP_DATA	29575000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1006793
+SHUFFLE	COMPRESS_BYTE_COUNT	291288
+SHUFFLE	COPY_MAP_DATA	101557000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1569344
+SHUFFLE	COMPRESS_BYTE_COUNT	445769
+SHUFFLE	COPY_MAP_DATA	23671000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1854494
+SHUFFLE	COMPRESS_BYTE_COUNT	527113
+SHUFFLE	COPY_MAP_DATA	25687000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1116389
+SHUFFLE	COMPRESS_BYTE_COUNT	302500
+SHUFFLE	COPY_MAP_DATA	37196000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	978702
+SHUFFLE	COMPRESS_BYTE_COUNT	283817
+SHUFFLE	COPY_MAP_DATA	43712000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1633552
+SHUFFLE	COMPRESS_BYTE_COUNT	472956
+SHUFFLE	COPY_MAP_DATA	595498000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1410396
+SHUFFLE	COMPRESS_BYTE_COUNT	324954
+SHUFFLE	COPY_MAP_DATA	141209000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	992593
+SHUFFLE	COMPRESS_BYTE_COUNT	287276
+SHUFFLE	COPY_MAP_DATA	16114000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1666283
+SHUFFLE	COMPRESS_BYTE_COUNT	502812
+SHUFFLE	COPY_MAP_DATA	25705000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1623895
+SHUFFLE	COMPRESS_BYTE_COUNT	473033
+SHUFFLE	COPY_MAP_DATA	133713000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1788155
+SHUFFLE	COMPRESS_BYTE_COUNT	530379
+SHUFFLE	COPY_MAP_DATA	467908000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1070651
+SHUFFLE	COMPRESS_BYTE_COUNT	302427
+SHUFFLE	COPY_MAP_DATA	210061000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1545976
+SHUFFLE	COMPRESS_BYTE_COUNT	459039
+SHUFFLE	COPY_MAP_DATA	1658500000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1031920
+SHUFFLE	COMPRESS_BYTE_COUNT	298829
+SHUFFLE	COPY_MAP_DATA	519623000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1706545
+SHUFFLE	COMPRESS_BYTE_COUNT	489562
+SHUFFLE	COPY_MAP_DATA	56217000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	975291
+SHUFFLE	COMPRESS_BYTE_COUNT	297875
+SHUFFLE	COPY_MAP_DATA	197191000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1045300
+SHUFFLE	COMPRESS_BYTE_COUNT	304067
+SHUFFLE	COPY_MAP_DATA	172891000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1059741
+SHUFFLE	COMPRESS_BYTE_COUNT	298103
+SHUFFLE	COPY_MAP_DATA	17447000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1009892
+SHUFFLE	COMPRESS_BYTE_COUNT	297187
+SHUFFLE	COPY_MAP_DATA	506965000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	967229
+SHUFFLE	COMPRESS_BYTE_COUNT	271488
+SHUFFLE	COPY_MAP_DATA	4793697000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1039504
+SHUFFLE	COMPRESS_BYTE_COUNT	309010
+SHUFFLE	COPY_MAP_DATA	51390000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1006594
+SHUFFLE	COMPRESS_BYTE_COUNT	296830
+SHUFFLE	COPY_MAP_DATA	18998000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1060073
+SHUFFLE	COMPRESS_BYTE_COUNT	304408
+SHUFFLE	COPY_MAP_DATA	94323000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1031236
+SHUFFLE	COMPRESS_BYTE_COUNT	302132
+SHUFFLE	COPY_MAP_DATA	17369000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1017746
+SHUFFLE	COMPRESS_BYTE_COUNT	295898
+SHUFFLE	COPY_MAP_DATA	17251000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1020790
+SHUFFLE	COMPRESS_BYTE_COUNT	300304
+SHUFFLE	COPY_MAP_DATA	19623000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1031242
+SHUFFLE	COMPRESS_BYTE_COUNT	299574
+SHUFFLE	COPY_MAP_DATA	258726000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1076929
+SHUFFLE	COMPRESS_BYTE_COUNT	311387
+SHUFFLE	COPY_MAP_DATA	266874000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1027238
+SHUFFLE	COMPRESS_BYTE_COUNT	301931
+SHUFFLE	COPY_MAP_DATA	16510000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1118255
+SHUFFLE	COMPRESS_BYTE_COUNT	300800
+SHUFFLE	COPY_MAP_DATA	2480226000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1032229
+SHUFFLE	COMPRESS_BYTE_COUNT	298495
+SHUFFLE	COPY_MAP_DATA	35019000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1008439
+SHUFFLE	COMPRESS_BYTE_COUNT	295027
+SHUFFLE	COPY_MAP_DATA	18259000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1062054
+SHUFFLE	COMPRESS_BYTE_COUNT	317778
+SHUFFLE	COPY_MAP_DATA	18897000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	990254
+SHUFFLE	COMPRESS_BYTE_COUNT	300679
+SHUFFLE	COPY_MAP_DATA	17527000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1180072
+SHUFFLE	COMPRESS_BYTE_COUNT	318206
+SHUFFLE	COPY_MAP_DATA	19563000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	969865
+SHUFFLE	COMPRESS_BYTE_COUNT	297208
+SHUFFLE	COPY_MAP_DATA	126283000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1033304
+SHUFFLE	COMPRESS_BYTE_COUNT	308945
+SHUFFLE	COPY_MAP_DATA	17195000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	964506
+SHUFFLE	COMPRESS_BYTE_COUNT	293530
+SHUFFLE	COPY_MAP_DATA	17628000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1026224
+SHUFFLE	COMPRESS_BYTE_COUNT	305438
+SHUFFLE	COPY_MAP_DATA	1259030000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1015168
+SHUFFLE	COMPRESS_BYTE_COUNT	298969
+SHUFFLE	COPY_MAP_DATA	17034000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	963260
+SHUFFLE	COMPRESS_BYTE_COUNT	283647
+SHUFFLE	COPY_MAP_DATA	415510000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1006172
+SHUFFLE	COMPRESS_BYTE_COUNT	301795
+SHUFFLE	COPY_MAP_DATA	135567000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1031494
+SHUFFLE	COMPRESS_BYTE_COUNT	306562
+SHUFFLE	COPY_MAP_DATA	16165000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1127940
+SHUFFLE	COMPRESS_BYTE_COUNT	297823
+SHUFFLE	COPY_MAP_DATA	17704000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1010767
+SHUFFLE	COMPRESS_BYTE_COUNT	298702
+SHUFFLE	COPY_MAP_DATA	344461000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1016587
+SHUFFLE	COMPRESS_BYTE_COUNT	310654
+SHUFFLE	COPY_MAP_DATA	72105000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1022684
+SHUFFLE	COMPRESS_BYTE_COUNT	296530
+SHUFFLE	COPY_MAP_DATA	17875000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1000178
+SHUFFLE	COMPRESS_BYTE_COUNT	302405
+SHUFFLE	COPY_MAP_DATA	263234000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	949510
+SHUFFLE	COMPRESS_BYTE_COUNT	292994
+SHUFFLE	COPY_MAP_DATA	306227000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	993978
+SHUFFLE	COMPRESS_BYTE_COUNT	304245
+SHUFFLE	COPY_MAP_DATA	60654000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	977645
+SHUFFLE	COMPRESS_BYTE_COUNT	300066
+SHUFFLE	COPY_MAP_DATA	16454000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	983095
+SHUFFLE	COMPRESS_BYTE_COUNT	271604
+SHUFFLE	COPY_MAP_DATA	417074000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1075758
+SHUFFLE	COMPRESS_BYTE_COUNT	291165
+SHUFFLE	COPY_MAP_DATA	172680000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	980007
+SHUFFLE	COMPRESS_BYTE_COUNT	296191
+SHUFFLE	COPY_MAP_DATA	100581000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	985208
+SHUFFLE	COMPRESS_BYTE_COUNT	298142
+SHUFFLE	COPY_MAP_DATA	176562000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	980733
+SHUFFLE	COMPRESS_BYTE_COUNT	299784
+SHUFFLE	COPY_MAP_DATA	17715000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1019939
+SHUFFLE	COMPRESS_BYTE_COUNT	303064
+SHUFFLE	COPY_MAP_DATA	35440000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1048760
+SHUFFLE	COMPRESS_BYTE_COUNT	297041
+SHUFFLE	COPY_MAP_DATA	18111000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	955527
+SHUFFLE	COMPRESS_BYTE_COUNT	290995
+SHUFFLE	COPY_MAP_DATA	49802000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	984977
+SHUFFLE	COMPRESS_BYTE_COUNT	302335
+SHUFFLE	COPY_MAP_DATA	102837000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1027563
+SHUFFLE	COMPRESS_BYTE_COUNT	300706
+SHUFFLE	COPY_MAP_DATA	24242000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	966242
+SHUFFLE	COMPRESS_BYTE_COUNT	290293
+SHUFFLE	COPY_MAP_DATA	16182000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	958378
+SHUFFLE	COMPRESS_BYTE_COUNT	290771
+SHUFFLE	COPY_MAP_DATA	57438000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	985390
+SHUFFLE	COMPRESS_BYTE_COUNT	297254
+SHUFFLE	COPY_MAP_DATA	18275000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1001122
+SHUFFLE	COMPRESS_BYTE_COUNT	297363
+SHUFFLE	COPY_MAP_DATA	17074000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	926087
+SHUFFLE	COMPRESS_BYTE_COUNT	283447
+SHUFFLE	COPY_MAP_DATA	65832000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	999033
+SHUFFLE	COMPRESS_BYTE_COUNT	302080
+SHUFFLE	COPY_MAP_DATA	889414000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	990379
+SHUFFLE	COMPRESS_BYTE_COUNT	302608
+SHUFFLE	COPY_MAP_DATA	37148000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	974497
+SHUFFLE	COMPRESS_BYTE_COUNT	289794
+SHUFFLE	COPY_MAP_DATA	15819000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	987279
+SHUFFLE	COMPRESS_BYTE_COUNT	296211
+SHUFFLE	COPY_MAP_DATA	17002000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	988038
+SHUFFLE	COMPRESS_BYTE_COUNT	305905
+SHUFFLE	COPY_MAP_DATA	18779000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1005566
+SHUFFLE	COMPRESS_BYTE_COUNT	298738
+SHUFFLE	COPY_MAP_DATA	56810000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1038784
+SHUFFLE	COMPRESS_BYTE_COUNT	301699
+SHUFFLE	COPY_MAP_DATA	680779000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	991436
+SHUFFLE	COMPRESS_BYTE_COUNT	299932
+SHUFFLE	COPY_MAP_DATA	60851000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	966980
+SHUFFLE	COMPRESS_BYTE_COUNT	295609
+SHUFFLE	COPY_MAP_DATA	16945000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	906576
+SHUFFLE	COMPRESS_BYTE_COUNT	275647
+SHUFFLE	COPY_MAP_DATA	36975000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	951660
+SHUFFLE	COMPRESS_BYTE_COUNT	285633
+SHUFFLE	COPY_MAP_DATA	158340000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	904153
+SHUFFLE	COMPRESS_BYTE_COUNT	280492
+SHUFFLE	COPY_MAP_DATA	215255000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	932328
+SHUFFLE	COMPRESS_BYTE_COUNT	287303
+SHUFFLE	COPY_MAP_DATA	67381000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1006483
+SHUFFLE	COMPRESS_BYTE_COUNT	298685
+SHUFFLE	COPY_MAP_DATA	220565000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	930275
+SHUFFLE	COMPRESS_BYTE_COUNT	282857
+SHUFFLE	COPY_MAP_DATA	16064000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	954073
+SHUFFLE	COMPRESS_BYTE_COUNT	286952
+SHUFFLE	COPY_MAP_DATA	52220000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	975721
+SHUFFLE	COMPRESS_BYTE_COUNT	297633
+SHUFFLE	COPY_MAP_DATA	27398000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	901039
+SHUFFLE	COMPRESS_BYTE_COUNT	281751
+SHUFFLE	COPY_MAP_DATA	268376000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	965292
+SHUFFLE	COMPRESS_BYTE_COUNT	301861
+SHUFFLE	COPY_MAP_DATA	3363594000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	947647
+SHUFFLE	COMPRESS_BYTE_COUNT	285961
+SHUFFLE	COPY_MAP_DATA	16607000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	935744
+SHUFFLE	COMPRESS_BYTE_COUNT	291728
+SHUFFLE	COPY_MAP_DATA	227376000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	972897
+SHUFFLE	COMPRESS_BYTE_COUNT	287522
+SHUFFLE	COPY_MAP_DATA	19002000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	986307
+SHUFFLE	COMPRESS_BYTE_COUNT	298941
+SHUFFLE	COPY_MAP_DATA	30359000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	947914
+SHUFFLE	COMPRESS_BYTE_COUNT	292316
+SHUFFLE	COPY_MAP_DATA	118087000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	941573
+SHUFFLE	COMPRESS_BYTE_COUNT	289968
+SHUFFLE	COPY_MAP_DATA	90829000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	884895
+SHUFFLE	COMPRESS_BYTE_COUNT	275486
+SHUFFLE	COPY_MAP_DATA	16986000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	915289
+SHUFFLE	COMPRESS_BYTE_COUNT	273772
+SHUFFLE	COPY_MAP_DATA	4723991000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	968036
+SHUFFLE	COMPRESS_BYTE_COUNT	294714
+SHUFFLE	COPY_MAP_DATA	135035000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	884840
+SHUFFLE	COMPRESS_BYTE_COUNT	274439
+SHUFFLE	COPY_MAP_DATA	90561000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	934045
+SHUFFLE	COMPRESS_BYTE_COUNT	286114
+SHUFFLE	COPY_MAP_DATA	191167000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	888417
+SHUFFLE	COMPRESS_BYTE_COUNT	259788
+SHUFFLE	COPY_MAP_DATA	335352000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	855868
+SHUFFLE	COMPRESS_BYTE_COUNT	255150
+SHUFFLE	COPY_MAP_DATA	15082000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	996143
+SHUFFLE	COMPRESS_BYTE_COUNT	298386
+SHUFFLE	COPY_MAP_DATA	574595000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	911656
+SHUFFLE	COMPRESS_BYTE_COUNT	278772
+SHUFFLE	COPY_MAP_DATA	96921000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	960760
+SHUFFLE	COMPRESS_BYTE_COUNT	295382
+SHUFFLE	COPY_MAP_DATA	820921000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	915170
+SHUFFLE	COMPRESS_BYTE_COUNT	282033
+SHUFFLE	COPY_MAP_DATA	28637000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	900763
+SHUFFLE	COMPRESS_BYTE_COUNT	275544
+SHUFFLE	COPY_MAP_DATA	16186000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	942174
+SHUFFLE	COMPRESS_BYTE_COUNT	286087
+SHUFFLE	COPY_MAP_DATA	102494000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	945190
+SHUFFLE	COMPRESS_BYTE_COUNT	267474
+SHUFFLE	COPY_MAP_DATA	14986000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	960590
+SHUFFLE	COMPRESS_BYTE_COUNT	293483
+SHUFFLE	COPY_MAP_DATA	207188000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	915286
+SHUFFLE	COMPRESS_BYTE_COUNT	264303
+SHUFFLE	COPY_MAP_DATA	1460241000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	796520
+SHUFFLE	COMPRESS_BYTE_COUNT	245304
+SHUFFLE	COPY_MAP_DATA	39520000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	865231
+SHUFFLE	COMPRESS_BYTE_COUNT	272773
+SHUFFLE	COPY_MAP_DATA	15504000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	828706
+SHUFFLE	COMPRESS_BYTE_COUNT	248417
+SHUFFLE	COPY_MAP_DATA	258034000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1020148
+SHUFFLE	COMPRESS_BYTE_COUNT	287754
+SHUFFLE	COPY_MAP_DATA	18110000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	890372
+SHUFFLE	COMPRESS_BYTE_COUNT	256587
+SHUFFLE	COPY_MAP_DATA	15825000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	840032
+SHUFFLE	COMPRESS_BYTE_COUNT	253899
+SHUFFLE	COPY_MAP_DATA	14707000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1013276
+SHUFFLE	COMPRESS_BYTE_COUNT	293601
+SHUFFLE	COPY_MAP_DATA	6402422000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	835416
+SHUFFLE	COMPRESS_BYTE_COUNT	253780
+SHUFFLE	COPY_MAP_DATA	15121000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	886841
+SHUFFLE	COMPRESS_BYTE_COUNT	269114
+SHUFFLE	COPY_MAP_DATA	64710000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	847174
+SHUFFLE	COMPRESS_BYTE_COUNT	268339
+SHUFFLE	COPY_MAP_DATA	17171000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	902518
+SHUFFLE	COMPRESS_BYTE_COUNT	270326
+SHUFFLE	COPY_MAP_DATA	40964000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	835176
+SHUFFLE	COMPRESS_BYTE_COUNT	244146
+SHUFFLE	COPY_MAP_DATA	152130000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	904343
+SHUFFLE	COMPRESS_BYTE_COUNT	264862
+SHUFFLE	COPY_MAP_DATA	319342000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	895000
+SHUFFLE	COMPRESS_BYTE_COUNT	265630
+SHUFFLE	COPY_MAP_DATA	172137000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	887564
+SHUFFLE	COMPRESS_BYTE_COUNT	265628
+SHUFFLE	COPY_MAP_DATA	17534000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	815080
+SHUFFLE	COMPRESS_BYTE_COUNT	248142
+SHUFFLE	COPY_MAP_DATA	157682000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	788243
+SHUFFLE	COMPRESS_BYTE_COUNT	238340
+SHUFFLE	COPY_MAP_DATA	13323000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	758383
+SHUFFLE	COMPRESS_BYTE_COUNT	203030
+SHUFFLE	COPY_MAP_DATA	75979000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	827790
+SHUFFLE	COMPRESS_BYTE_COUNT	248631
+SHUFFLE	COPY_MAP_DATA	16637000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	929235
+SHUFFLE	COMPRESS_BYTE_COUNT	280964
+SHUFFLE	COPY_MAP_DATA	37014000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	848729
+SHUFFLE	COMPRESS_BYTE_COUNT	256606
+SHUFFLE	COPY_MAP_DATA	80080000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	782487
+SHUFFLE	COMPRESS_BYTE_COUNT	235650
+SHUFFLE	COPY_MAP_DATA	40292000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	783547
+SHUFFLE	COMPRESS_BYTE_COUNT	240445
+SHUFFLE	COPY_MAP_DATA	25154000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	842806
+SHUFFLE	COMPRESS_BYTE_COUNT	249757
+SHUFFLE	COPY_MAP_DATA	13754000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	795606
+SHUFFLE	COMPRESS_BYTE_COUNT	240486
+SHUFFLE	COPY_MAP_DATA	3503030000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	829174
+SHUFFLE	COMPRESS_BYTE_COUNT	252050
+SHUFFLE	COPY_MAP_DATA	79175000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	851809
+SHUFFLE	COMPRESS_BYTE_COUNT	253499
+SHUFFLE	COPY_MAP_DATA	199093000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	851139
+SHUFFLE	COMPRESS_BYTE_COUNT	255269
+SHUFFLE	COPY_MAP_DATA	20883000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	802994
+SHUFFLE	COMPRESS_BYTE_COUNT	243455
+SHUFFLE	COPY_MAP_DATA	150316000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	786442
+SHUFFLE	COMPRESS_BYTE_COUNT	234649
+SHUFFLE	COPY_MAP_DATA	22725000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	809074
+SHUFFLE	COMPRESS_BYTE_COUNT	242644
+SHUFFLE	COPY_MAP_DATA	14266000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	830236
+SHUFFLE	COMPRESS_BYTE_COUNT	245494
+SHUFFLE	COPY_MAP_DATA	14531000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	980319
+SHUFFLE	COMPRESS_BYTE_COUNT	283041
+SHUFFLE	COPY_MAP_DATA	85399000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	839996
+SHUFFLE	COMPRESS_BYTE_COUNT	260328
+SHUFFLE	COPY_MAP_DATA	13071000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	895468
+SHUFFLE	COMPRESS_BYTE_COUNT	269637
+SHUFFLE	COPY_MAP_DATA	567484000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	860350
+SHUFFLE	COMPRESS_BYTE_COUNT	243271
+SHUFFLE	COPY_MAP_DATA	14627000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	841405
+SHUFFLE	COMPRESS_BYTE_COUNT	251580
+SHUFFLE	COPY_MAP_DATA	15202000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	892912
+SHUFFLE	COMPRESS_BYTE_COUNT	259263
+SHUFFLE	COPY_MAP_DATA	104275000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	903547
+SHUFFLE	COMPRESS_BYTE_COUNT	237972
+SHUFFLE	COPY_MAP_DATA	14303000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1172967
+SHUFFLE	COMPRESS_BYTE_COUNT	367363
+SHUFFLE	COPY_MAP_DATA	170309000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	797480
+SHUFFLE	COMPRESS_BYTE_COUNT	240377
+SHUFFLE	COPY_MAP_DATA	39427000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	916226
+SHUFFLE	COMPRESS_BYTE_COUNT	266930
+SHUFFLE	COPY_MAP_DATA	15387000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	782520
+SHUFFLE	COMPRESS_BYTE_COUNT	237724
+SHUFFLE	COPY_MAP_DATA	62039000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	786638
+SHUFFLE	COMPRESS_BYTE_COUNT	232518
+SHUFFLE	COPY_MAP_DATA	82184000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	782193
+SHUFFLE	COMPRESS_BYTE_COUNT	242525
+SHUFFLE	COPY_MAP_DATA	49314000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	805708
+SHUFFLE	COMPRESS_BYTE_COUNT	244215
+SHUFFLE	COPY_MAP_DATA	14382000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	827326
+SHUFFLE	COMPRESS_BYTE_COUNT	236365
+SHUFFLE	COPY_MAP_DATA	13536000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	881857
+SHUFFLE	COMPRESS_BYTE_COUNT	262011
+SHUFFLE	COPY_MAP_DATA	19322000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	810654
+SHUFFLE	COMPRESS_BYTE_COUNT	234713
+SHUFFLE	COPY_MAP_DATA	13348000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	881428
+SHUFFLE	COMPRESS_BYTE_COUNT	250944
+SHUFFLE	COPY_MAP_DATA	919649000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	822375
+SHUFFLE	COMPRESS_BYTE_COUNT	237630
+SHUFFLE	COPY_MAP_DATA	22043000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	989110
+SHUFFLE	COMPRESS_BYTE_COUNT	287492
+SHUFFLE	COPY_MAP_DATA	3802961000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	849684
+SHUFFLE	COMPRESS_BYTE_COUNT	266923
+SHUFFLE	COPY_MAP_DATA	274920000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	805733
+SHUFFLE	COMPRESS_BYTE_COUNT	242861
+SHUFFLE	COPY_MAP_DATA	1263490000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	767052
+SHUFFLE	COMPRESS_BYTE_COUNT	224166
+SHUFFLE	COPY_MAP_DATA	52823000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	794864
+SHUFFLE	COMPRESS_BYTE_COUNT	237357
+SHUFFLE	COPY_MAP_DATA	593652000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	775326
+SHUFFLE	COMPRESS_BYTE_COUNT	237401
+SHUFFLE	COPY_MAP_DATA	52431000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	829355
+SHUFFLE	COMPRESS_BYTE_COUNT	242190
+SHUFFLE	COPY_MAP_DATA	13580000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	783466
+SHUFFLE	COMPRESS_BYTE_COUNT	231148
+SHUFFLE	COPY_MAP_DATA	49436000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	786898
+SHUFFLE	COMPRESS_BYTE_COUNT	239361
+SHUFFLE	COPY_MAP_DATA	13428000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	755839
+SHUFFLE	COMPRESS_BYTE_COUNT	223520
+SHUFFLE	COPY_MAP_DATA	12258000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	838747
+SHUFFLE	COMPRESS_BYTE_COUNT	244440
+SHUFFLE	COPY_MAP_DATA	3465894000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	808568
+SHUFFLE	COMPRESS_BYTE_COUNT	235940
+SHUFFLE	COPY_MAP_DATA	14739000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	868161
+SHUFFLE	COMPRESS_BYTE_COUNT	252355
+SHUFFLE	COPY_MAP_DATA	14496000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	797271
+SHUFFLE	COMPRESS_BYTE_COUNT	236250
+SHUFFLE	COPY_MAP_DATA	101371000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1061797
+SHUFFLE	COMPRESS_BYTE_COUNT	338140
+SHUFFLE	COPY_MAP_DATA	189845000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	869468
+SHUFFLE	COMPRESS_BYTE_COUNT	258260
+SHUFFLE	COPY_MAP_DATA	83951000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	753926
+SHUFFLE	COMPRESS_BYTE_COUNT	225599
+SHUFFLE	COPY_MAP_DATA	14938000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	879219
+SHUFFLE	COMPRESS_BYTE_COUNT	259682
+SHUFFLE	COPY_MAP_DATA	16904000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	844035
+SHUFFLE	COMPRESS_BYTE_COUNT	240963
+SHUFFLE	COPY_MAP_DATA	14604000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	744479
+SHUFFLE	COMPRESS_BYTE_COUNT	229684
+SHUFFLE	COPY_MAP_DATA	322936000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	839262
+SHUFFLE	COMPRESS_BYTE_COUNT	258055
+SHUFFLE	COPY_MAP_DATA	561351000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	837187
+SHUFFLE	COMPRESS_BYTE_COUNT	251929
+SHUFFLE	COPY_MAP_DATA	79630000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	850822
+SHUFFLE	COMPRESS_BYTE_COUNT	263333
+SHUFFLE	COPY_MAP_DATA	226688000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	773059
+SHUFFLE	COMPRESS_BYTE_COUNT	236067
+SHUFFLE	COPY_MAP_DATA	33239000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	778510
+SHUFFLE	COMPRESS_BYTE_COUNT	235413
+SHUFFLE	COPY_MAP_DATA	25902000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	797410
+SHUFFLE	COMPRESS_BYTE_COUNT	240915
+SHUFFLE	COPY_MAP_DATA	517712000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	774313
+SHUFFLE	COMPRESS_BYTE_COUNT	232981
+SHUFFLE	COPY_MAP_DATA	14272000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	773282
+SHUFFLE	COMPRESS_BYTE_COUNT	236580
+SHUFFLE	COPY_MAP_DATA	95637000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	902779
+SHUFFLE	COMPRESS_BYTE_COUNT	267380
+SHUFFLE	COPY_MAP_DATA	14764000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	834937
+SHUFFLE	COMPRESS_BYTE_COUNT	253563
+SHUFFLE	COPY_MAP_DATA	14473000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1105725
+SHUFFLE	COMPRESS_BYTE_COUNT	278369
+SHUFFLE	COPY_MAP_DATA	61649000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	800792
+SHUFFLE	COMPRESS_BYTE_COUNT	240766
+SHUFFLE	COPY_MAP_DATA	108178000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	862800
+SHUFFLE	COMPRESS_BYTE_COUNT	248358
+SHUFFLE	COPY_MAP_DATA	9309870000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	865386
+SHUFFLE	COMPRESS_BYTE_COUNT	257138
+SHUFFLE	COPY_MAP_DATA	58453000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1064470
+SHUFFLE	COMPRESS_BYTE_COUNT	266148
+SHUFFLE	COPY_MAP_DATA	16073000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	814569
+SHUFFLE	COMPRESS_BYTE_COUNT	239186
+SHUFFLE	COPY_MAP_DATA	15272000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	808690
+SHUFFLE	COMPRESS_BYTE_COUNT	232630
+SHUFFLE	COPY_MAP_DATA	281031000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1007305
+SHUFFLE	COMPRESS_BYTE_COUNT	313932
+SHUFFLE	COPY_MAP_DATA	15769000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	769601
+SHUFFLE	COMPRESS_BYTE_COUNT	227010
+SHUFFLE	COPY_MAP_DATA	489531000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	592884
+SHUFFLE	COMPRESS_BYTE_COUNT	160350
+SHUFFLE	COPY_MAP_DATA	13779000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	740880
+SHUFFLE	COMPRESS_BYTE_COUNT	232534
+SHUFFLE	COPY_MAP_DATA	123534000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	701340
+SHUFFLE	COMPRESS_BYTE_COUNT	206968
+SHUFFLE	COPY_MAP_DATA	22597000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	776447
+SHUFFLE	COMPRESS_BYTE_COUNT	228210
+SHUFFLE	COPY_MAP_DATA	12262000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	873953
+SHUFFLE	COMPRESS_BYTE_COUNT	257937
+SHUFFLE	COPY_MAP_DATA	16599000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	803002
+SHUFFLE	COMPRESS_BYTE_COUNT	242152
+SHUFFLE	COPY_MAP_DATA	13096000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	773059
+SHUFFLE	COMPRESS_BYTE_COUNT	236067
+SHUFFLE	COPY_MAP_DATA	39310000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	850615
+SHUFFLE	COMPRESS_BYTE_COUNT	249916
+SHUFFLE	COPY_MAP_DATA	21469000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	652015
+SHUFFLE	COMPRESS_BYTE_COUNT	132609
+SHUFFLE	COPY_MAP_DATA	10409000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	857107
+SHUFFLE	COMPRESS_BYTE_COUNT	258590
+SHUFFLE	COPY_MAP_DATA	15024000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	770117
+SHUFFLE	COMPRESS_BYTE_COUNT	224155
+SHUFFLE	COPY_MAP_DATA	22260000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	667504
+SHUFFLE	COMPRESS_BYTE_COUNT	206363
+SHUFFLE	COPY_MAP_DATA	12457000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	752092
+SHUFFLE	COMPRESS_BYTE_COUNT	229629
+SHUFFLE	COPY_MAP_DATA	190378000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	948895
+SHUFFLE	COMPRESS_BYTE_COUNT	287343
+SHUFFLE	COPY_MAP_DATA	38131000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	796428
+SHUFFLE	COMPRESS_BYTE_COUNT	247775
+SHUFFLE	COPY_MAP_DATA	274447000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	749550
+SHUFFLE	COMPRESS_BYTE_COUNT	223163
+SHUFFLE	COPY_MAP_DATA	12706000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	803768
+SHUFFLE	COMPRESS_BYTE_COUNT	237473
+SHUFFLE	COPY_MAP_DATA	12585000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	939369
+SHUFFLE	COMPRESS_BYTE_COUNT	249165
+SHUFFLE	COPY_MAP_DATA	15549000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1141025
+SHUFFLE	COMPRESS_BYTE_COUNT	317388
+SHUFFLE	COPY_MAP_DATA	30802000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1055863
+SHUFFLE	COMPRESS_BYTE_COUNT	328279
+SHUFFLE	COPY_MAP_DATA	27022000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	802294
+SHUFFLE	COMPRESS_BYTE_COUNT	235213
+SHUFFLE	COPY_MAP_DATA	13703000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	763767
+SHUFFLE	COMPRESS_BYTE_COUNT	244473
+SHUFFLE	COPY_MAP_DATA	62670000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	254546952000
+MERGE	READ_WRITE	250161007000
+MERGE	READ_WRITE_COUNT	2
+MERGE	COMBINE	0
+MERGE	WRITE	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	39497143000
+SORT	READ_WRITE	39312664000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	181244352
+REDUCE	SETUP	306000
+REDUCE	SETUP_MEM	181244352
+REDUCE	CLEANUP	28000
+REDUCE	CLEANUP_MEM	143836432
+REDUCE	TOTAL_RUN	130234324000
+REDUCE	READ	8501943000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	115189265000
+REDUCE	WRITE	54141704000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	74359564
+REDUCE	VALUE_BYTE_COUNT	67202614
+REDUCE	REDUCE_MEM	143838480
+REDUCE	WRITE	710033000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	797121329527
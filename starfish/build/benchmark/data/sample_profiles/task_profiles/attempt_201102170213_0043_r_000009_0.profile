@@ -0,0 +1,1333 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1976568
+SHUFFLE	COMPRESS_BYTE_COUNT	529845
+SHUFFLE	COPY_MAP_DATA	68300000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1929173
+SHUFFLE	COMPRESS_BYTE_COUNT	573099
+SHUFFLE	COPY_MAP_DATA	63374000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1885328
+SHUFFLE	COMPRESS_BYTE_COUNT	558381
+SHUFFLE	COPY_MAP_DATA	155072000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1955561
+SHUFFLE	COMPRESS_BYTE_COUNT	554663
+SHUFFLE	COPY_MAP_DATA	33488000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1995815
+SHUFFLE	COMPRESS_BYTE_COUNT	572481
+SHUFFLE	COPY_MAP_DATA	39696000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1830521
+SHUFFLE	COMPRESS_BYTE_COUNT	471788
+SHUFFLE	COPY_MAP_DATA	27957000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2025391
+SHUFFLE	COMPRESS_BYTE_COUNT	573314
+SHUFFLE	COPY_MAP_DATA	115590000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1971537
+SHUFFLE	COMPRESS_BYTE_COUNT	562237
+SHUFFLE	COPY_MAP_DATA	580424000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1974862
+SHUFFLE	COMPRESS_BYTE_COUNT	550120
+SHUFFLE	COPY_MAP_DATA	57318000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1953906
+SHUFFLE	COMPRESS_BYTE_COUNT	539553
+SHUFFLE	COPY_MAP_DATA	62245000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1932939
+SHUFFLE	COMPRESS_BYTE_COUNT	555060
+SHUFFLE	COPY_MAP_DATA	127529000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1877753
+SHUFFLE	COMPRESS_BYTE_COUNT	550633
+SHUFFLE	COPY_MAP_DATA	55904000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1812091
+SHUFFLE	COMPRESS_BYTE_COUNT	546482
+SHUFFLE	COPY_MAP_DATA	346410000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1923930
+SHUFFLE	COMPRESS_BYTE_COUNT	550291
+SHUFFLE	COPY_MAP_DATA	31893000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1695720
+SHUFFLE	COMPRESS_BYTE_COUNT	467260
+SHUFFLE	COPY_MAP_DATA	87070000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2003674
+SHUFFLE	COMPRESS_BYTE_COUNT	551314
+SHUFFLE	COPY_MAP_DATA	81985000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2010530
+SHUFFLE	COMPRESS_BYTE_COUNT	539162
+SHUFFLE	COPY_MAP_DATA	28665000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2092722
+SHUFFLE	COMPRESS_BYTE_COUNT	575211
+SHUFFLE	COPY_MAP_DATA	574788000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2062084
+SHUFFLE	COMPRESS_BYTE_COUNT	559618
+SHUFFLE	COPY_MAP_DATA	30004000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2007322
+SHUFFLE	COMPRESS_BYTE_COUNT	570680
+SHUFFLE	COPY_MAP_DATA	30906000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1921571
+SHUFFLE	COMPRESS_BYTE_COUNT	561955
+SHUFFLE	COPY_MAP_DATA	73786000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2102453
+SHUFFLE	COMPRESS_BYTE_COUNT	568670
+SHUFFLE	COPY_MAP_DATA	55549000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2028057
+SHUFFLE	COMPRESS_BYTE_COUNT	567320
+SHUFFLE	COPY_MAP_DATA	111662000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1993700
+SHUFFLE	COMPRESS_BYTE_COUNT	567421
+SHUFFLE	COPY_MAP_DATA	77478000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1832105
+SHUFFLE	COMPRESS_BYTE_COUNT	546619
+SHUFFLE	COPY_MAP_DATA	26681000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2021970
+SHUFFLE	COMPRESS_BYTE_COUNT	568527
+SHUFFLE	COPY_MAP_DATA	67809000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2083942
+SHUFFLE	COMPRESS_BYTE_COUNT	552630
+SHUFFLE	COPY_MAP_DATA	189715000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1962499
+SHUFFLE	COMPRESS_BYTE_COUNT	568948
+SHUFFLE	COPY_MAP_DATA	80300000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1780127
+SHUFFLE	COMPRESS_BYTE_COUNT	483559
+SHUFFLE	COPY_MAP_DATA	24267000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1840767
+SHUFFLE	COMPRESS_BYTE_COUNT	556815
+SHUFFLE	COPY_MAP_DATA	26817000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1845200
+SHUFFLE	COMPRESS_BYTE_COUNT	539343
+SHUFFLE	COPY_MAP_DATA	55188000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1832671
+SHUFFLE	COMPRESS_BYTE_COUNT	549264
+SHUFFLE	COPY_MAP_DATA	35623000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1826796
+SHUFFLE	COMPRESS_BYTE_COUNT	550386
+SHUFFLE	COPY_MAP_DATA	30152000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1770733
+SHUFFLE	COMPRESS_BYTE_COUNT	529041
+SHUFFLE	COPY_MAP_DATA	134825000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1892393
+SHUFFLE	COMPRESS_BYTE_COUNT	559905
+SHUFFLE	COPY_MAP_DATA	111623000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1844279
+SHUFFLE	COMPRESS_BYTE_COUNT	550418
+SHUFFLE	COPY_MAP_DATA	56464000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1746029
+SHUFFLE	COMPRESS_BYTE_COUNT	535681
+SHUFFLE	COPY_MAP_DATA	41299000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1936529
+SHUFFLE	COMPRESS_BYTE_COUNT	562665
+SHUFFLE	COPY_MAP_DATA	134431000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1806195
+SHUFFLE	COMPRESS_BYTE_COUNT	540676
+SHUFFLE	COPY_MAP_DATA	204125000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1853729
+SHUFFLE	COMPRESS_BYTE_COUNT	539200
+SHUFFLE	COPY_MAP_DATA	625733000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1532130
+SHUFFLE	COMPRESS_BYTE_COUNT	451556
+SHUFFLE	COPY_MAP_DATA	41218000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1955799
+SHUFFLE	COMPRESS_BYTE_COUNT	567378
+SHUFFLE	COPY_MAP_DATA	89094000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2269438
+SHUFFLE	COMPRESS_BYTE_COUNT	476313
+SHUFFLE	COPY_MAP_DATA	27287000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1708802
+SHUFFLE	COMPRESS_BYTE_COUNT	529218
+SHUFFLE	COPY_MAP_DATA	65212000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1788755
+SHUFFLE	COMPRESS_BYTE_COUNT	544324
+SHUFFLE	COPY_MAP_DATA	790229000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1909204
+SHUFFLE	COMPRESS_BYTE_COUNT	556219
+SHUFFLE	COPY_MAP_DATA	3079705943
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1802833
+SHUFFLE	COMPRESS_BYTE_COUNT	546235
+SHUFFLE	COPY_MAP_DATA	29529000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1768837
+SHUFFLE	COMPRESS_BYTE_COUNT	535125
+SHUFFLE	COPY_MAP_DATA	27088000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1597586
+SHUFFLE	COMPRESS_BYTE_COUNT	484907
+SHUFFLE	COPY_MAP_DATA	45570000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1602154
+SHUFFLE	COMPRESS_BYTE_COUNT	474286
+SHUFFLE	COPY_MAP_DATA	165087000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1669771
+SHUFFLE	COMPRESS_BYTE_COUNT	481129
+SHUFFLE	COPY_MAP_DATA	50414000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1915415
+SHUFFLE	COMPRESS_BYTE_COUNT	540215
+SHUFFLE	COPY_MAP_DATA	36447000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1746699
+SHUFFLE	COMPRESS_BYTE_COUNT	502073
+SHUFFLE	COPY_MAP_DATA	27953000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1840089
+SHUFFLE	COMPRESS_BYTE_COUNT	545867
+SHUFFLE	COPY_MAP_DATA	28778000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1759239
+SHUFFLE	COMPRESS_BYTE_COUNT	501233
+SHUFFLE	COPY_MAP_DATA	74460000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1844300
+SHUFFLE	COMPRESS_BYTE_COUNT	531047
+SHUFFLE	COPY_MAP_DATA	28918000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1852734
+SHUFFLE	COMPRESS_BYTE_COUNT	543595
+SHUFFLE	COPY_MAP_DATA	62373000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1898065
+SHUFFLE	COMPRESS_BYTE_COUNT	546909
+SHUFFLE	COPY_MAP_DATA	29206000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1714524
+SHUFFLE	COMPRESS_BYTE_COUNT	522382
+SHUFFLE	COPY_MAP_DATA	203977000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1715527
+SHUFFLE	COMPRESS_BYTE_COUNT	522141
+SHUFFLE	COPY_MAP_DATA	26713000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1684028
+SHUFFLE	COMPRESS_BYTE_COUNT	485995
+SHUFFLE	COPY_MAP_DATA	744616000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1591419
+SHUFFLE	COMPRESS_BYTE_COUNT	471502
+SHUFFLE	COPY_MAP_DATA	190779000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1620987
+SHUFFLE	COMPRESS_BYTE_COUNT	477529
+SHUFFLE	COPY_MAP_DATA	85376000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1573831
+SHUFFLE	COMPRESS_BYTE_COUNT	474535
+SHUFFLE	COPY_MAP_DATA	416984000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1808322
+SHUFFLE	COMPRESS_BYTE_COUNT	525662
+SHUFFLE	COPY_MAP_DATA	229555000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1672800
+SHUFFLE	COMPRESS_BYTE_COUNT	456498
+SHUFFLE	COPY_MAP_DATA	179254000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1732280
+SHUFFLE	COMPRESS_BYTE_COUNT	487641
+SHUFFLE	COPY_MAP_DATA	26161000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1599158
+SHUFFLE	COMPRESS_BYTE_COUNT	469541
+SHUFFLE	COPY_MAP_DATA	38061000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1547042
+SHUFFLE	COMPRESS_BYTE_COUNT	454843
+SHUFFLE	COPY_MAP_DATA	145815000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1556577
+SHUFFLE	COMPRESS_BYTE_COUNT	451231
+SHUFFLE	COPY_MAP_DATA	379575000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1625029
+SHUFFLE	COMPRESS_BYTE_COUNT	471003
+SHUFFLE	COPY_MAP_DATA	33819000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1909153
+SHUFFLE	COMPRESS_BYTE_COUNT	577560
+SHUFFLE	COPY_MAP_DATA	30578000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1638330
+SHUFFLE	COMPRESS_BYTE_COUNT	472244
+SHUFFLE	COPY_MAP_DATA	97179000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1477674
+SHUFFLE	COMPRESS_BYTE_COUNT	435349
+SHUFFLE	COPY_MAP_DATA	132762000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1685883
+SHUFFLE	COMPRESS_BYTE_COUNT	462795
+SHUFFLE	COPY_MAP_DATA	118279000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1518789
+SHUFFLE	COMPRESS_BYTE_COUNT	456591
+SHUFFLE	COPY_MAP_DATA	98205000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1792648
+SHUFFLE	COMPRESS_BYTE_COUNT	561003
+SHUFFLE	COPY_MAP_DATA	27260000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1676316
+SHUFFLE	COMPRESS_BYTE_COUNT	481262
+SHUFFLE	COPY_MAP_DATA	81924000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1845775
+SHUFFLE	COMPRESS_BYTE_COUNT	525999
+SHUFFLE	COPY_MAP_DATA	29873000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1638380
+SHUFFLE	COMPRESS_BYTE_COUNT	480705
+SHUFFLE	COPY_MAP_DATA	27331000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1595869
+SHUFFLE	COMPRESS_BYTE_COUNT	454347
+SHUFFLE	COPY_MAP_DATA	112926000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1685822
+SHUFFLE	COMPRESS_BYTE_COUNT	479593
+SHUFFLE	COPY_MAP_DATA	28564000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1625579
+SHUFFLE	COMPRESS_BYTE_COUNT	475781
+SHUFFLE	COPY_MAP_DATA	26230000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1840770
+SHUFFLE	COMPRESS_BYTE_COUNT	536430
+SHUFFLE	COPY_MAP_DATA	29183000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1993142
+SHUFFLE	COMPRESS_BYTE_COUNT	500411
+SHUFFLE	COPY_MAP_DATA	27611000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1601378
+SHUFFLE	COMPRESS_BYTE_COUNT	469793
+SHUFFLE	COPY_MAP_DATA	28116000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1738987
+SHUFFLE	COMPRESS_BYTE_COUNT	537000
+SHUFFLE	COPY_MAP_DATA	95711000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	850959
+SHUFFLE	COMPRESS_BYTE_COUNT	238502
+SHUFFLE	COPY_MAP_DATA	403884000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1444874
+SHUFFLE	COMPRESS_BYTE_COUNT	432879
+SHUFFLE	COPY_MAP_DATA	37892000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1679622
+SHUFFLE	COMPRESS_BYTE_COUNT	464474
+SHUFFLE	COPY_MAP_DATA	346188000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1504010
+SHUFFLE	COMPRESS_BYTE_COUNT	441062
+SHUFFLE	COPY_MAP_DATA	2867641000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	979564
+SHUFFLE	COMPRESS_BYTE_COUNT	263318
+SHUFFLE	COPY_MAP_DATA	16398000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	862760
+SHUFFLE	COMPRESS_BYTE_COUNT	247762
+SHUFFLE	COPY_MAP_DATA	157917000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	917369
+SHUFFLE	COMPRESS_BYTE_COUNT	265892
+SHUFFLE	COPY_MAP_DATA	91407000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	871852
+SHUFFLE	COMPRESS_BYTE_COUNT	242130
+SHUFFLE	COPY_MAP_DATA	1155755000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1006495
+SHUFFLE	COMPRESS_BYTE_COUNT	293449
+SHUFFLE	COPY_MAP_DATA	17127000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1661129
+SHUFFLE	COMPRESS_BYTE_COUNT	466845
+SHUFFLE	COPY_MAP_DATA	24185000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1530151
+SHUFFLE	COMPRESS_BYTE_COUNT	457461
+SHUFFLE	COPY_MAP_DATA	24560000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	823870
+SHUFFLE	COMPRESS_BYTE_COUNT	242183
+SHUFFLE	COPY_MAP_DATA	42509000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1564664
+SHUFFLE	COMPRESS_BYTE_COUNT	466606
+SHUFFLE	COPY_MAP_DATA	24335000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1428530
+SHUFFLE	COMPRESS_BYTE_COUNT	423922
+SHUFFLE	COPY_MAP_DATA	21843000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1605426
+SHUFFLE	COMPRESS_BYTE_COUNT	459177
+SHUFFLE	COPY_MAP_DATA	24836000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1489074
+SHUFFLE	COMPRESS_BYTE_COUNT	423807
+SHUFFLE	COPY_MAP_DATA	520411000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1621296
+SHUFFLE	COMPRESS_BYTE_COUNT	484594
+SHUFFLE	COPY_MAP_DATA	42688000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1585131
+SHUFFLE	COMPRESS_BYTE_COUNT	446683
+SHUFFLE	COPY_MAP_DATA	27448000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1759062
+SHUFFLE	COMPRESS_BYTE_COUNT	539160
+SHUFFLE	COPY_MAP_DATA	176450000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1002223
+SHUFFLE	COMPRESS_BYTE_COUNT	290954
+SHUFFLE	COPY_MAP_DATA	16337000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1518439
+SHUFFLE	COMPRESS_BYTE_COUNT	447259
+SHUFFLE	COPY_MAP_DATA	23751000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	957736
+SHUFFLE	COMPRESS_BYTE_COUNT	284411
+SHUFFLE	COPY_MAP_DATA	20495000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1792568
+SHUFFLE	COMPRESS_BYTE_COUNT	516172
+SHUFFLE	COPY_MAP_DATA	27479000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1059072
+SHUFFLE	COMPRESS_BYTE_COUNT	292344
+SHUFFLE	COPY_MAP_DATA	122641000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1641483
+SHUFFLE	COMPRESS_BYTE_COUNT	466793
+SHUFFLE	COPY_MAP_DATA	89432000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	951460
+SHUFFLE	COMPRESS_BYTE_COUNT	278691
+SHUFFLE	COPY_MAP_DATA	161824000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	947413
+SHUFFLE	COMPRESS_BYTE_COUNT	277740
+SHUFFLE	COPY_MAP_DATA	15684000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	3049459
+SHUFFLE	COMPRESS_BYTE_COUNT	426259
+SHUFFLE	COPY_MAP_DATA	96574000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1670274
+SHUFFLE	COMPRESS_BYTE_COUNT	475911
+SHUFFLE	COPY_MAP_DATA	42592000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1602404
+SHUFFLE	COMPRESS_BYTE_COUNT	490696
+SHUFFLE	COPY_MAP_DATA	47281000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1647177
+SHUFFLE	COMPRESS_BYTE_COUNT	464224
+SHUFFLE	COPY_MAP_DATA	1172389000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1808917
+SHUFFLE	COMPRESS_BYTE_COUNT	531316
+SHUFFLE	COPY_MAP_DATA	116166000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	978755
+SHUFFLE	COMPRESS_BYTE_COUNT	286793
+SHUFFLE	COPY_MAP_DATA	184946000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1000032
+SHUFFLE	COMPRESS_BYTE_COUNT	289962
+SHUFFLE	COPY_MAP_DATA	41139000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1670968
+SHUFFLE	COMPRESS_BYTE_COUNT	484549
+SHUFFLE	COPY_MAP_DATA	65234000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	938218
+SHUFFLE	COMPRESS_BYTE_COUNT	288027
+SHUFFLE	COPY_MAP_DATA	148837000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1006308
+SHUFFLE	COMPRESS_BYTE_COUNT	297719
+SHUFFLE	COPY_MAP_DATA	49705000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1032149
+SHUFFLE	COMPRESS_BYTE_COUNT	291549
+SHUFFLE	COPY_MAP_DATA	55571000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1005770
+SHUFFLE	COMPRESS_BYTE_COUNT	298929
+SHUFFLE	COPY_MAP_DATA	16989000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1018834
+SHUFFLE	COMPRESS_BYTE_COUNT	272011
+SHUFFLE	COPY_MAP_DATA	14961000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	992760
+SHUFFLE	COMPRESS_BYTE_COUNT	297259
+SHUFFLE	COPY_MAP_DATA	39745000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	981336
+SHUFFLE	COMPRESS_BYTE_COUNT	292925
+SHUFFLE	COPY_MAP_DATA	16332000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1001453
+SHUFFLE	COMPRESS_BYTE_COUNT	293151
+SHUFFLE	COPY_MAP_DATA	16667000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	990203
+SHUFFLE	COMPRESS_BYTE_COUNT	294766
+SHUFFLE	COPY_MAP_DATA	16274000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	975440
+SHUFFLE	COMPRESS_BYTE_COUNT	294980
+SHUFFLE	COPY_MAP_DATA	16212000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	985570
+SHUFFLE	COMPRESS_BYTE_COUNT	292496
+SHUFFLE	COPY_MAP_DATA	45369000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	996109
+SHUFFLE	COMPRESS_BYTE_COUNT	294276
+SHUFFLE	COPY_MAP_DATA	106408000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1032633
+SHUFFLE	COMPRESS_BYTE_COUNT	304094
+SHUFFLE	COPY_MAP_DATA	4819479000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	985391
+SHUFFLE	COMPRESS_BYTE_COUNT	292831
+SHUFFLE	COPY_MAP_DATA	34849000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	994678
+SHUFFLE	COMPRESS_BYTE_COUNT	292098
+SHUFFLE	COPY_MAP_DATA	91678000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1067408
+SHUFFLE	COMPRESS_BYTE_COUNT	294347
+SHUFFLE	COPY_MAP_DATA	16321000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1021940
+SHUFFLE	COMPRESS_BYTE_COUNT	307356
+SHUFFLE	COPY_MAP_DATA	242277000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	986828
+SHUFFLE	COMPRESS_BYTE_COUNT	299503
+SHUFFLE	COPY_MAP_DATA	226499000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	985714
+SHUFFLE	COMPRESS_BYTE_COUNT	287088
+SHUFFLE	COPY_MAP_DATA	171658000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	931582
+SHUFFLE	COMPRESS_BYTE_COUNT	287366
+SHUFFLE	COPY_MAP_DATA	17386000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	933105
+SHUFFLE	COMPRESS_BYTE_COUNT	276018
+SHUFFLE	COPY_MAP_DATA	19899000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	965194
+SHUFFLE	COMPRESS_BYTE_COUNT	293940
+SHUFFLE	COPY_MAP_DATA	17623000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1008132
+SHUFFLE	COMPRESS_BYTE_COUNT	303618
+SHUFFLE	COPY_MAP_DATA	175824000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	989991
+SHUFFLE	COMPRESS_BYTE_COUNT	299686
+SHUFFLE	COPY_MAP_DATA	17143000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1086416
+SHUFFLE	COMPRESS_BYTE_COUNT	306522
+SHUFFLE	COPY_MAP_DATA	984923000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	933501
+SHUFFLE	COMPRESS_BYTE_COUNT	292455
+SHUFFLE	COPY_MAP_DATA	16001000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	990047
+SHUFFLE	COMPRESS_BYTE_COUNT	300546
+SHUFFLE	COPY_MAP_DATA	662365000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	987126
+SHUFFLE	COMPRESS_BYTE_COUNT	299121
+SHUFFLE	COPY_MAP_DATA	16045000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	956574
+SHUFFLE	COMPRESS_BYTE_COUNT	289919
+SHUFFLE	COPY_MAP_DATA	43726000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	995674
+SHUFFLE	COMPRESS_BYTE_COUNT	306040
+SHUFFLE	COPY_MAP_DATA	253134000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	976367
+SHUFFLE	COMPRESS_BYTE_COUNT	290657
+SHUFFLE	COPY_MAP_DATA	16431000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	970172
+SHUFFLE	COMPRESS_BYTE_COUNT	289229
+SHUFFLE	COPY_MAP_DATA	228278000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	957130
+SHUFFLE	COMPRESS_BYTE_COUNT	292883
+SHUFFLE	COPY_MAP_DATA	129183000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	996040
+SHUFFLE	COMPRESS_BYTE_COUNT	271841
+SHUFFLE	COPY_MAP_DATA	108208000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	943751
+SHUFFLE	COMPRESS_BYTE_COUNT	295407
+SHUFFLE	COPY_MAP_DATA	16440000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	911668
+SHUFFLE	COMPRESS_BYTE_COUNT	288696
+SHUFFLE	COPY_MAP_DATA	23527000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	945763
+SHUFFLE	COMPRESS_BYTE_COUNT	293466
+SHUFFLE	COPY_MAP_DATA	50638000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1051795
+SHUFFLE	COMPRESS_BYTE_COUNT	286119
+SHUFFLE	COPY_MAP_DATA	38666000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	964976
+SHUFFLE	COMPRESS_BYTE_COUNT	291023
+SHUFFLE	COPY_MAP_DATA	16407000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	913900
+SHUFFLE	COMPRESS_BYTE_COUNT	287366
+SHUFFLE	COPY_MAP_DATA	134300000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1020198
+SHUFFLE	COMPRESS_BYTE_COUNT	297541
+SHUFFLE	COPY_MAP_DATA	17058000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1041586
+SHUFFLE	COMPRESS_BYTE_COUNT	295591
+SHUFFLE	COPY_MAP_DATA	152959000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	980361
+SHUFFLE	COMPRESS_BYTE_COUNT	298656
+SHUFFLE	COPY_MAP_DATA	36004000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	918446
+SHUFFLE	COMPRESS_BYTE_COUNT	280834
+SHUFFLE	COPY_MAP_DATA	279672000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	931542
+SHUFFLE	COMPRESS_BYTE_COUNT	289145
+SHUFFLE	COPY_MAP_DATA	36535000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	920625
+SHUFFLE	COMPRESS_BYTE_COUNT	279883
+SHUFFLE	COPY_MAP_DATA	15627000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1060869
+SHUFFLE	COMPRESS_BYTE_COUNT	298680
+SHUFFLE	COPY_MAP_DATA	18134000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	914576
+SHUFFLE	COMPRESS_BYTE_COUNT	283229
+SHUFFLE	COPY_MAP_DATA	722583000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1082296
+SHUFFLE	COMPRESS_BYTE_COUNT	296461
+SHUFFLE	COPY_MAP_DATA	17280000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	971337
+SHUFFLE	COMPRESS_BYTE_COUNT	291987
+SHUFFLE	COPY_MAP_DATA	17952000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	958298
+SHUFFLE	COMPRESS_BYTE_COUNT	297671
+SHUFFLE	COPY_MAP_DATA	16943000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	897018
+SHUFFLE	COMPRESS_BYTE_COUNT	284914
+SHUFFLE	COPY_MAP_DATA	16588000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	879059
+SHUFFLE	COMPRESS_BYTE_COUNT	276367
+SHUFFLE	COPY_MAP_DATA	483671000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	960853
+SHUFFLE	COMPRESS_BYTE_COUNT	295136
+SHUFFLE	COPY_MAP_DATA	438860000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	971430
+SHUFFLE	COMPRESS_BYTE_COUNT	291651
+SHUFFLE	COPY_MAP_DATA	16986000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	903028
+SHUFFLE	COMPRESS_BYTE_COUNT	280980
+SHUFFLE	COPY_MAP_DATA	269899000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	975673
+SHUFFLE	COMPRESS_BYTE_COUNT	294891
+SHUFFLE	COPY_MAP_DATA	149364000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	964962
+SHUFFLE	COMPRESS_BYTE_COUNT	299912
+SHUFFLE	COPY_MAP_DATA	17700000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	868841
+SHUFFLE	COMPRESS_BYTE_COUNT	273109
+SHUFFLE	COPY_MAP_DATA	19723000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	927196
+SHUFFLE	COMPRESS_BYTE_COUNT	289730
+SHUFFLE	COPY_MAP_DATA	28571000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	929079
+SHUFFLE	COMPRESS_BYTE_COUNT	287884
+SHUFFLE	COPY_MAP_DATA	209196000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	880169
+SHUFFLE	COMPRESS_BYTE_COUNT	277428
+SHUFFLE	COPY_MAP_DATA	15791000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	876986
+SHUFFLE	COMPRESS_BYTE_COUNT	277121
+SHUFFLE	COPY_MAP_DATA	15476000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	879001
+SHUFFLE	COMPRESS_BYTE_COUNT	272561
+SHUFFLE	COPY_MAP_DATA	942074000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	944230
+SHUFFLE	COMPRESS_BYTE_COUNT	288146
+SHUFFLE	COPY_MAP_DATA	121389000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	926756
+SHUFFLE	COMPRESS_BYTE_COUNT	279781
+SHUFFLE	COPY_MAP_DATA	29907000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	891167
+SHUFFLE	COMPRESS_BYTE_COUNT	279871
+SHUFFLE	COPY_MAP_DATA	160233000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	878281
+SHUFFLE	COMPRESS_BYTE_COUNT	276141
+SHUFFLE	COPY_MAP_DATA	24298000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	911771
+SHUFFLE	COMPRESS_BYTE_COUNT	288942
+SHUFFLE	COPY_MAP_DATA	476082000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	912222
+SHUFFLE	COMPRESS_BYTE_COUNT	290700
+SHUFFLE	COPY_MAP_DATA	87977000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	874885
+SHUFFLE	COMPRESS_BYTE_COUNT	281727
+SHUFFLE	COPY_MAP_DATA	859081000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	919036
+SHUFFLE	COMPRESS_BYTE_COUNT	283774
+SHUFFLE	COPY_MAP_DATA	16022000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	953614
+SHUFFLE	COMPRESS_BYTE_COUNT	294082
+SHUFFLE	COPY_MAP_DATA	16117000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	893954
+SHUFFLE	COMPRESS_BYTE_COUNT	275411
+SHUFFLE	COPY_MAP_DATA	173571000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	920973
+SHUFFLE	COMPRESS_BYTE_COUNT	288629
+SHUFFLE	COPY_MAP_DATA	22442000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	872869
+SHUFFLE	COMPRESS_BYTE_COUNT	282571
+SHUFFLE	COPY_MAP_DATA	50600000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	885983
+SHUFFLE	COMPRESS_BYTE_COUNT	272928
+SHUFFLE	COPY_MAP_DATA	356804000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	882624
+SHUFFLE	COMPRESS_BYTE_COUNT	265827
+SHUFFLE	COPY_MAP_DATA	215951000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	931618
+SHUFFLE	COMPRESS_BYTE_COUNT	285114
+SHUFFLE	COPY_MAP_DATA	144358000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	871239
+SHUFFLE	COMPRESS_BYTE_COUNT	277160
+SHUFFLE	COPY_MAP_DATA	315463000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	836245
+SHUFFLE	COMPRESS_BYTE_COUNT	266229
+SHUFFLE	COPY_MAP_DATA	120746000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	854511
+SHUFFLE	COMPRESS_BYTE_COUNT	253864
+SHUFFLE	COPY_MAP_DATA	1697872000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	814591
+SHUFFLE	COMPRESS_BYTE_COUNT	249482
+SHUFFLE	COPY_MAP_DATA	21567000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	952444
+SHUFFLE	COMPRESS_BYTE_COUNT	290050
+SHUFFLE	COPY_MAP_DATA	15300000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	873162
+SHUFFLE	COMPRESS_BYTE_COUNT	274166
+SHUFFLE	COPY_MAP_DATA	205337000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	931924
+SHUFFLE	COMPRESS_BYTE_COUNT	291501
+SHUFFLE	COPY_MAP_DATA	31046000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	922113
+SHUFFLE	COMPRESS_BYTE_COUNT	274696
+SHUFFLE	COPY_MAP_DATA	27218000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	851699
+SHUFFLE	COMPRESS_BYTE_COUNT	265792
+SHUFFLE	COPY_MAP_DATA	30374000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	917415
+SHUFFLE	COMPRESS_BYTE_COUNT	288125
+SHUFFLE	COPY_MAP_DATA	260758000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	848348
+SHUFFLE	COMPRESS_BYTE_COUNT	253842
+SHUFFLE	COPY_MAP_DATA	511084000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	919118
+SHUFFLE	COMPRESS_BYTE_COUNT	277477
+SHUFFLE	COPY_MAP_DATA	233688000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	891858
+SHUFFLE	COMPRESS_BYTE_COUNT	261128
+SHUFFLE	COPY_MAP_DATA	15887000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	846688
+SHUFFLE	COMPRESS_BYTE_COUNT	269031
+SHUFFLE	COPY_MAP_DATA	5121866000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	777302
+SHUFFLE	COMPRESS_BYTE_COUNT	241669
+SHUFFLE	COPY_MAP_DATA	80854000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	821228
+SHUFFLE	COMPRESS_BYTE_COUNT	258969
+SHUFFLE	COPY_MAP_DATA	15509000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	837565
+SHUFFLE	COMPRESS_BYTE_COUNT	266620
+SHUFFLE	COPY_MAP_DATA	15466000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	935321
+SHUFFLE	COMPRESS_BYTE_COUNT	275836
+SHUFFLE	COPY_MAP_DATA	16702000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	861078
+SHUFFLE	COMPRESS_BYTE_COUNT	255717
+SHUFFLE	COPY_MAP_DATA	14470000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	813432
+SHUFFLE	COMPRESS_BYTE_COUNT	245815
+SHUFFLE	COPY_MAP_DATA	14271000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	834895
+SHUFFLE	COMPRESS_BYTE_COUNT	251450
+SHUFFLE	COPY_MAP_DATA	14828000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	843687
+SHUFFLE	COMPRESS_BYTE_COUNT	253011
+SHUFFLE	COPY_MAP_DATA	14546000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	872042
+SHUFFLE	COMPRESS_BYTE_COUNT	262466
+SHUFFLE	COPY_MAP_DATA	14658000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1037224
+SHUFFLE	COMPRESS_BYTE_COUNT	299694
+SHUFFLE	COPY_MAP_DATA	17481000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	878193
+SHUFFLE	COMPRESS_BYTE_COUNT	260097
+SHUFFLE	COPY_MAP_DATA	23457000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	839513
+SHUFFLE	COMPRESS_BYTE_COUNT	254536
+SHUFFLE	COPY_MAP_DATA	12813000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	891737
+SHUFFLE	COMPRESS_BYTE_COUNT	248902
+SHUFFLE	COPY_MAP_DATA	15029000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	785298
+SHUFFLE	COMPRESS_BYTE_COUNT	241456
+SHUFFLE	COPY_MAP_DATA	14414000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1324426
+SHUFFLE	COMPRESS_BYTE_COUNT	237839
+SHUFFLE	COPY_MAP_DATA	111746000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	892190
+SHUFFLE	COMPRESS_BYTE_COUNT	267223
+SHUFFLE	COPY_MAP_DATA	2550464000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	750391
+SHUFFLE	COMPRESS_BYTE_COUNT	234306
+SHUFFLE	COPY_MAP_DATA	13467000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	925700
+SHUFFLE	COMPRESS_BYTE_COUNT	277835
+SHUFFLE	COPY_MAP_DATA	254192000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	753056
+SHUFFLE	COMPRESS_BYTE_COUNT	232844
+SHUFFLE	COPY_MAP_DATA	33595000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	771826
+SHUFFLE	COMPRESS_BYTE_COUNT	242482
+SHUFFLE	COPY_MAP_DATA	3442909000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	749807
+SHUFFLE	COMPRESS_BYTE_COUNT	230352
+SHUFFLE	COPY_MAP_DATA	230017000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	840545
+SHUFFLE	COMPRESS_BYTE_COUNT	254525
+SHUFFLE	COPY_MAP_DATA	42030000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	809083
+SHUFFLE	COMPRESS_BYTE_COUNT	250696
+SHUFFLE	COPY_MAP_DATA	14638000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	793384
+SHUFFLE	COMPRESS_BYTE_COUNT	244859
+SHUFFLE	COPY_MAP_DATA	210480000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	771642
+SHUFFLE	COMPRESS_BYTE_COUNT	234792
+SHUFFLE	COPY_MAP_DATA	39798000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	834846
+SHUFFLE	COMPRESS_BYTE_COUNT	251655
+SHUFFLE	COPY_MAP_DATA	28110000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	832372
+SHUFFLE	COMPRESS_BYTE_COUNT	237209
+SHUFFLE	COPY_MAP_DATA	15525000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	813162
+SHUFFLE	COMPRESS_BYTE_COUNT	251282
+SHUFFLE	COPY_MAP_DATA	14066000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	764020
+SHUFFLE	COMPRESS_BYTE_COUNT	232543
+SHUFFLE	COPY_MAP_DATA	13992000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	821425
+SHUFFLE	COMPRESS_BYTE_COUNT	244118
+SHUFFLE	COPY_MAP_DATA	2297124000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	776360
+SHUFFLE	COMPRESS_BYTE_COUNT	240996
+SHUFFLE	COPY_MAP_DATA	1450238000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	973031
+SHUFFLE	COMPRESS_BYTE_COUNT	281439
+SHUFFLE	COPY_MAP_DATA	802706000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	813567
+SHUFFLE	COMPRESS_BYTE_COUNT	255763
+SHUFFLE	COPY_MAP_DATA	13686000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	782442
+SHUFFLE	COMPRESS_BYTE_COUNT	238891
+SHUFFLE	COPY_MAP_DATA	14074000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	773961
+SHUFFLE	COMPRESS_BYTE_COUNT	241096
+SHUFFLE	COPY_MAP_DATA	17868000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	872746
+SHUFFLE	COMPRESS_BYTE_COUNT	263072
+SHUFFLE	COPY_MAP_DATA	14906000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	865495
+SHUFFLE	COMPRESS_BYTE_COUNT	256462
+SHUFFLE	COPY_MAP_DATA	31178000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	872453
+SHUFFLE	COMPRESS_BYTE_COUNT	233988
+SHUFFLE	COPY_MAP_DATA	253554000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1156099
+SHUFFLE	COMPRESS_BYTE_COUNT	361394
+SHUFFLE	COPY_MAP_DATA	32344000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	762643
+SHUFFLE	COMPRESS_BYTE_COUNT	235741
+SHUFFLE	COPY_MAP_DATA	409033000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	806772
+SHUFFLE	COMPRESS_BYTE_COUNT	236576
+SHUFFLE	COPY_MAP_DATA	33498000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	845458
+SHUFFLE	COMPRESS_BYTE_COUNT	253920
+SHUFFLE	COPY_MAP_DATA	192392000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	822952
+SHUFFLE	COMPRESS_BYTE_COUNT	245763
+SHUFFLE	COPY_MAP_DATA	127935000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	744830
+SHUFFLE	COMPRESS_BYTE_COUNT	231711
+SHUFFLE	COPY_MAP_DATA	13932000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	756883
+SHUFFLE	COMPRESS_BYTE_COUNT	232827
+SHUFFLE	COPY_MAP_DATA	165837000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	732169
+SHUFFLE	COMPRESS_BYTE_COUNT	225672
+SHUFFLE	COPY_MAP_DATA	12254000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	764602
+SHUFFLE	COMPRESS_BYTE_COUNT	232628
+SHUFFLE	COPY_MAP_DATA	12041000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	785998
+SHUFFLE	COMPRESS_BYTE_COUNT	234435
+SHUFFLE	COPY_MAP_DATA	929436000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	810823
+SHUFFLE	COMPRESS_BYTE_COUNT	241893
+SHUFFLE	COPY_MAP_DATA	233544000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	880523
+SHUFFLE	COMPRESS_BYTE_COUNT	258564
+SHUFFLE	COPY_MAP_DATA	394923000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	917241
+SHUFFLE	COMPRESS_BYTE_COUNT	275951
+SHUFFLE	COPY_MAP_DATA	3011699000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	889254
+SHUFFLE	COMPRESS_BYTE_COUNT	268907
+SHUFFLE	COPY_MAP_DATA	42729000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	760266
+SHUFFLE	COMPRESS_BYTE_COUNT	234544
+SHUFFLE	COPY_MAP_DATA	15161000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	785974
+SHUFFLE	COMPRESS_BYTE_COUNT	226975
+SHUFFLE	COPY_MAP_DATA	13372000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	760490
+SHUFFLE	COMPRESS_BYTE_COUNT	233597
+SHUFFLE	COPY_MAP_DATA	268306000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	766534
+SHUFFLE	COMPRESS_BYTE_COUNT	234053
+SHUFFLE	COPY_MAP_DATA	13658000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	823003
+SHUFFLE	COMPRESS_BYTE_COUNT	240969
+SHUFFLE	COPY_MAP_DATA	13253000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	795618
+SHUFFLE	COMPRESS_BYTE_COUNT	235928
+SHUFFLE	COPY_MAP_DATA	14587000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	779573
+SHUFFLE	COMPRESS_BYTE_COUNT	233603
+SHUFFLE	COPY_MAP_DATA	33818000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	713656
+SHUFFLE	COMPRESS_BYTE_COUNT	217536
+SHUFFLE	COPY_MAP_DATA	12557000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	793868
+SHUFFLE	COMPRESS_BYTE_COUNT	235688
+SHUFFLE	COPY_MAP_DATA	736162000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	771843
+SHUFFLE	COMPRESS_BYTE_COUNT	231056
+SHUFFLE	COPY_MAP_DATA	23220000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1156771
+SHUFFLE	COMPRESS_BYTE_COUNT	269849
+SHUFFLE	COPY_MAP_DATA	80245000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	772868
+SHUFFLE	COMPRESS_BYTE_COUNT	229205
+SHUFFLE	COPY_MAP_DATA	13054000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1020824
+SHUFFLE	COMPRESS_BYTE_COUNT	333270
+SHUFFLE	COPY_MAP_DATA	135408000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	878718
+SHUFFLE	COMPRESS_BYTE_COUNT	259292
+SHUFFLE	COPY_MAP_DATA	14924000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	840430
+SHUFFLE	COMPRESS_BYTE_COUNT	234517
+SHUFFLE	COPY_MAP_DATA	192039000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	737706
+SHUFFLE	COMPRESS_BYTE_COUNT	226080
+SHUFFLE	COPY_MAP_DATA	66714000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	784240
+SHUFFLE	COMPRESS_BYTE_COUNT	237239
+SHUFFLE	COPY_MAP_DATA	14163000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	900676
+SHUFFLE	COMPRESS_BYTE_COUNT	268126
+SHUFFLE	COPY_MAP_DATA	22187000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	787324
+SHUFFLE	COMPRESS_BYTE_COUNT	230522
+SHUFFLE	COPY_MAP_DATA	13364000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	831713
+SHUFFLE	COMPRESS_BYTE_COUNT	255112
+SHUFFLE	COPY_MAP_DATA	16011000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	833571
+SHUFFLE	COMPRESS_BYTE_COUNT	255560
+SHUFFLE	COPY_MAP_DATA	14365000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	836373
+SHUFFLE	COMPRESS_BYTE_COUNT	246828
+SHUFFLE	COPY_MAP_DATA	56963000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	741485
+SHUFFLE	COMPRESS_BYTE_COUNT	226963
+SHUFFLE	COPY_MAP_DATA	11960000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	848354
+SHUFFLE	COMPRESS_BYTE_COUNT	241847
+SHUFFLE	COPY_MAP_DATA	16680000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	812215
+SHUFFLE	COMPRESS_BYTE_COUNT	249561
+SHUFFLE	COPY_MAP_DATA	14666000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	881449
+SHUFFLE	COMPRESS_BYTE_COUNT	256329
+SHUFFLE	COPY_MAP_DATA	15030000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	899205
+SHUFFLE	COMPRESS_BYTE_COUNT	266165
+SHUFFLE	COPY_MAP_DATA	14926000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	757074
+SHUFFLE	COMPRESS_BYTE_COUNT	234850
+SHUFFLE	COPY_MAP_DATA	17903000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	822937
+SHUFFLE	COMPRESS_BYTE_COUNT	243532
+SHUFFLE	COPY_MAP_DATA	14662000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	890654
+SHUFFLE	COMPRESS_BYTE_COUNT	254977
+SHUFFLE	COPY_MAP_DATA	16060000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	769329
+SHUFFLE	COMPRESS_BYTE_COUNT	231814
+SHUFFLE	COPY_MAP_DATA	33510000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	733901
+SHUFFLE	COMPRESS_BYTE_COUNT	227945
+SHUFFLE	COPY_MAP_DATA	14294000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	798515
+SHUFFLE	COMPRESS_BYTE_COUNT	239992
+SHUFFLE	COPY_MAP_DATA	349812000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	850929
+SHUFFLE	COMPRESS_BYTE_COUNT	244020
+SHUFFLE	COPY_MAP_DATA	6948211000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	875329
+SHUFFLE	COMPRESS_BYTE_COUNT	257702
+SHUFFLE	COPY_MAP_DATA	17544000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1045154
+SHUFFLE	COMPRESS_BYTE_COUNT	315864
+SHUFFLE	COPY_MAP_DATA	24663000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	694485
+SHUFFLE	COMPRESS_BYTE_COUNT	213389
+SHUFFLE	COPY_MAP_DATA	13925000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	701752
+SHUFFLE	COMPRESS_BYTE_COUNT	208111
+SHUFFLE	COPY_MAP_DATA	12418000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1273400
+SHUFFLE	COMPRESS_BYTE_COUNT	209621
+SHUFFLE	COPY_MAP_DATA	278621000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	782784
+SHUFFLE	COMPRESS_BYTE_COUNT	225824
+SHUFFLE	COPY_MAP_DATA	18992000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	830765
+SHUFFLE	COMPRESS_BYTE_COUNT	254461
+SHUFFLE	COPY_MAP_DATA	14031000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	745913
+SHUFFLE	COMPRESS_BYTE_COUNT	235158
+SHUFFLE	COPY_MAP_DATA	747011000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	776830
+SHUFFLE	COMPRESS_BYTE_COUNT	239487
+SHUFFLE	COPY_MAP_DATA	12233000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	847339
+SHUFFLE	COMPRESS_BYTE_COUNT	247714
+SHUFFLE	COPY_MAP_DATA	15323000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	741485
+SHUFFLE	COMPRESS_BYTE_COUNT	226963
+SHUFFLE	COPY_MAP_DATA	51788000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	886240
+SHUFFLE	COMPRESS_BYTE_COUNT	232682
+SHUFFLE	COPY_MAP_DATA	58940000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	858701
+SHUFFLE	COMPRESS_BYTE_COUNT	255688
+SHUFFLE	COPY_MAP_DATA	33134000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	975348
+SHUFFLE	COMPRESS_BYTE_COUNT	289653
+SHUFFLE	COPY_MAP_DATA	16779000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	749112
+SHUFFLE	COMPRESS_BYTE_COUNT	229199
+SHUFFLE	COPY_MAP_DATA	12992000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	630017
+SHUFFLE	COMPRESS_BYTE_COUNT	198253
+SHUFFLE	COPY_MAP_DATA	11222000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	828501
+SHUFFLE	COMPRESS_BYTE_COUNT	250924
+SHUFFLE	COPY_MAP_DATA	14878000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1725035
+SHUFFLE	COMPRESS_BYTE_COUNT	195850
+SHUFFLE	COPY_MAP_DATA	20660000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	818678
+SHUFFLE	COMPRESS_BYTE_COUNT	226595
+SHUFFLE	COPY_MAP_DATA	54940000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	770477
+SHUFFLE	COMPRESS_BYTE_COUNT	230050
+SHUFFLE	COPY_MAP_DATA	12728000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	771765
+SHUFFLE	COMPRESS_BYTE_COUNT	234455
+SHUFFLE	COPY_MAP_DATA	12771000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	869810
+SHUFFLE	COMPRESS_BYTE_COUNT	286084
+SHUFFLE	COPY_MAP_DATA	15754000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	799159
+SHUFFLE	COMPRESS_BYTE_COUNT	234322
+SHUFFLE	COPY_MAP_DATA	23449000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	953691
+SHUFFLE	COMPRESS_BYTE_COUNT	310749
+SHUFFLE	COPY_MAP_DATA	17134000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	730364
+SHUFFLE	COMPRESS_BYTE_COUNT	238804
+SHUFFLE	COPY_MAP_DATA	24138000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	210176052000
+MERGE	READ_WRITE	209745303000
+MERGE	READ_WRITE_COUNT	2
+MERGE	COMBINE	0
+MERGE	WRITE	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	36535734000
+SORT	READ_WRITE	36367541000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	126001656
+REDUCE	SETUP	302000
+REDUCE	SETUP_MEM	126001656
+REDUCE	CLEANUP	28000
+REDUCE	CLEANUP_MEM	158855512
+REDUCE	TOTAL_RUN	123343800000
+REDUCE	READ	8117188000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	109102838000
+REDUCE	WRITE	56328760000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	70965090
+REDUCE	VALUE_BYTE_COUNT	64657366
+REDUCE	REDUCE_MEM	158855512
+REDUCE	WRITE	7107000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	787845566943
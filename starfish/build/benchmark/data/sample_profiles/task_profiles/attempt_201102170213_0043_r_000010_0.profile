@@ -0,0 +1,1333 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2098715
+SHUFFLE	COMPRESS_BYTE_COUNT	585354
+SHUFFLE	COPY_MAP_DATA	1370775000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1986388
+SHUFFLE	COMPRESS_BYTE_COUNT	542104
+SHUFFLE	COPY_MAP_DATA	82871000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2059099
+SHUFFLE	COMPRESS_BYTE_COUNT	593069
+SHUFFLE	COPY_MAP_DATA	103157000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1861453
+SHUFFLE	COMPRESS_BYTE_COUNT	475090
+SHUFFLE	COPY_MAP_DATA	29685000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2078103
+SHUFFLE	COMPRESS_BYTE_COUNT	590332
+SHUFFLE	COPY_MAP_DATA	38493000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2042686
+SHUFFLE	COMPRESS_BYTE_COUNT	566652
+SHUFFLE	COPY_MAP_DATA	33599000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1696521
+SHUFFLE	COMPRESS_BYTE_COUNT	469938
+SHUFFLE	COPY_MAP_DATA	123427000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2011815
+SHUFFLE	COMPRESS_BYTE_COUNT	581755
+SHUFFLE	COPY_MAP_DATA	33480000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1999657
+SHUFFLE	COMPRESS_BYTE_COUNT	551036
+SHUFFLE	COPY_MAP_DATA	79079000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1982728
+SHUFFLE	COMPRESS_BYTE_COUNT	576373
+SHUFFLE	COPY_MAP_DATA	47200000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2086020
+SHUFFLE	COMPRESS_BYTE_COUNT	570430
+SHUFFLE	COPY_MAP_DATA	45494000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1998645
+SHUFFLE	COMPRESS_BYTE_COUNT	567480
+SHUFFLE	COPY_MAP_DATA	47045000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2075118
+SHUFFLE	COMPRESS_BYTE_COUNT	581434
+SHUFFLE	COPY_MAP_DATA	32523000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1868585
+SHUFFLE	COMPRESS_BYTE_COUNT	558020
+SHUFFLE	COPY_MAP_DATA	31138000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1962128
+SHUFFLE	COMPRESS_BYTE_COUNT	563985
+SHUFFLE	COPY_MAP_DATA	108361000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1942861
+SHUFFLE	COMPRESS_BYTE_COUNT	571268
+SHUFFLE	COPY_MAP_DATA	49361000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2111783
+SHUFFLE	COMPRESS_BYTE_COUNT	569056
+SHUFFLE	COPY_MAP_DATA	29947000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2020045
+SHUFFLE	COMPRESS_BYTE_COUNT	582611
+SHUFFLE	COPY_MAP_DATA	30053000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2143218
+SHUFFLE	COMPRESS_BYTE_COUNT	574629
+SHUFFLE	COPY_MAP_DATA	30826000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1833042
+SHUFFLE	COMPRESS_BYTE_COUNT	496435
+SHUFFLE	COPY_MAP_DATA	27488000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2229784
+SHUFFLE	COMPRESS_BYTE_COUNT	599929
+SHUFFLE	COPY_MAP_DATA	568315000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2099898
+SHUFFLE	COMPRESS_BYTE_COUNT	590241
+SHUFFLE	COPY_MAP_DATA	105868000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2156053
+SHUFFLE	COMPRESS_BYTE_COUNT	589599
+SHUFFLE	COPY_MAP_DATA	41065000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2030939
+SHUFFLE	COMPRESS_BYTE_COUNT	580394
+SHUFFLE	COPY_MAP_DATA	53043000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2111099
+SHUFFLE	COMPRESS_BYTE_COUNT	555774
+SHUFFLE	COPY_MAP_DATA	48370000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2035307
+SHUFFLE	COMPRESS_BYTE_COUNT	589559
+SHUFFLE	COPY_MAP_DATA	46546000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2165606
+SHUFFLE	COMPRESS_BYTE_COUNT	592862
+SHUFFLE	COPY_MAP_DATA	96865000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2089295
+SHUFFLE	COMPRESS_BYTE_COUNT	563458
+SHUFFLE	COPY_MAP_DATA	149203000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1974985
+SHUFFLE	COMPRESS_BYTE_COUNT	581829
+SHUFFLE	COPY_MAP_DATA	30961000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2003679
+SHUFFLE	COMPRESS_BYTE_COUNT	582769
+SHUFFLE	COPY_MAP_DATA	161293000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1880288
+SHUFFLE	COMPRESS_BYTE_COUNT	547269
+SHUFFLE	COPY_MAP_DATA	28967000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1906083
+SHUFFLE	COMPRESS_BYTE_COUNT	563462
+SHUFFLE	COPY_MAP_DATA	30034000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1816962
+SHUFFLE	COMPRESS_BYTE_COUNT	543046
+SHUFFLE	COPY_MAP_DATA	37644000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1904719
+SHUFFLE	COMPRESS_BYTE_COUNT	566611
+SHUFFLE	COPY_MAP_DATA	90258000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1854060
+SHUFFLE	COMPRESS_BYTE_COUNT	545673
+SHUFFLE	COPY_MAP_DATA	47483000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1917364
+SHUFFLE	COMPRESS_BYTE_COUNT	562264
+SHUFFLE	COPY_MAP_DATA	90198000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2076041
+SHUFFLE	COMPRESS_BYTE_COUNT	584407
+SHUFFLE	COPY_MAP_DATA	91346000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1630343
+SHUFFLE	COMPRESS_BYTE_COUNT	467451
+SHUFFLE	COPY_MAP_DATA	26836000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2056268
+SHUFFLE	COMPRESS_BYTE_COUNT	582956
+SHUFFLE	COPY_MAP_DATA	76816000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1994548
+SHUFFLE	COMPRESS_BYTE_COUNT	581865
+SHUFFLE	COPY_MAP_DATA	48586000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1886011
+SHUFFLE	COMPRESS_BYTE_COUNT	558868
+SHUFFLE	COPY_MAP_DATA	193704000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1919678
+SHUFFLE	COMPRESS_BYTE_COUNT	558294
+SHUFFLE	COPY_MAP_DATA	75154000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1975185
+SHUFFLE	COMPRESS_BYTE_COUNT	575392
+SHUFFLE	COPY_MAP_DATA	252701000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1916041
+SHUFFLE	COMPRESS_BYTE_COUNT	568397
+SHUFFLE	COPY_MAP_DATA	28656000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2080231
+SHUFFLE	COMPRESS_BYTE_COUNT	482105
+SHUFFLE	COPY_MAP_DATA	32079000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2011348
+SHUFFLE	COMPRESS_BYTE_COUNT	581978
+SHUFFLE	COPY_MAP_DATA	151214000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1895932
+SHUFFLE	COMPRESS_BYTE_COUNT	555950
+SHUFFLE	COPY_MAP_DATA	166286000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1834475
+SHUFFLE	COMPRESS_BYTE_COUNT	546450
+SHUFFLE	COPY_MAP_DATA	27385000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1758648
+SHUFFLE	COMPRESS_BYTE_COUNT	507412
+SHUFFLE	COPY_MAP_DATA	147150000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1704520
+SHUFFLE	COMPRESS_BYTE_COUNT	490334
+SHUFFLE	COPY_MAP_DATA	145814000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1759661
+SHUFFLE	COMPRESS_BYTE_COUNT	496060
+SHUFFLE	COPY_MAP_DATA	26382000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1793397
+SHUFFLE	COMPRESS_BYTE_COUNT	508607
+SHUFFLE	COPY_MAP_DATA	335582000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1924391
+SHUFFLE	COMPRESS_BYTE_COUNT	541623
+SHUFFLE	COPY_MAP_DATA	31355000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1920210
+SHUFFLE	COMPRESS_BYTE_COUNT	544358
+SHUFFLE	COPY_MAP_DATA	39626000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1878404
+SHUFFLE	COMPRESS_BYTE_COUNT	557773
+SHUFFLE	COPY_MAP_DATA	29126000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1723138
+SHUFFLE	COMPRESS_BYTE_COUNT	502587
+SHUFFLE	COPY_MAP_DATA	496463000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1963749
+SHUFFLE	COMPRESS_BYTE_COUNT	561843
+SHUFFLE	COPY_MAP_DATA	93644000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2022380
+SHUFFLE	COMPRESS_BYTE_COUNT	571726
+SHUFFLE	COPY_MAP_DATA	30660000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1831244
+SHUFFLE	COMPRESS_BYTE_COUNT	538630
+SHUFFLE	COPY_MAP_DATA	39965000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1772387
+SHUFFLE	COMPRESS_BYTE_COUNT	532547
+SHUFFLE	COPY_MAP_DATA	38232000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1670805
+SHUFFLE	COMPRESS_BYTE_COUNT	490803
+SHUFFLE	COPY_MAP_DATA	174339000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1703430
+SHUFFLE	COMPRESS_BYTE_COUNT	491484
+SHUFFLE	COPY_MAP_DATA	987811000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1676642
+SHUFFLE	COMPRESS_BYTE_COUNT	492952
+SHUFFLE	COPY_MAP_DATA	32734000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1702348
+SHUFFLE	COMPRESS_BYTE_COUNT	492219
+SHUFFLE	COPY_MAP_DATA	25378000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1699696
+SHUFFLE	COMPRESS_BYTE_COUNT	481181
+SHUFFLE	COPY_MAP_DATA	26609000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1848864
+SHUFFLE	COMPRESS_BYTE_COUNT	509541
+SHUFFLE	COPY_MAP_DATA	27399000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1832079
+SHUFFLE	COMPRESS_BYTE_COUNT	501585
+SHUFFLE	COPY_MAP_DATA	57676000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1836439
+SHUFFLE	COMPRESS_BYTE_COUNT	537423
+SHUFFLE	COPY_MAP_DATA	84172000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1697389
+SHUFFLE	COMPRESS_BYTE_COUNT	492190
+SHUFFLE	COPY_MAP_DATA	26221000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1650306
+SHUFFLE	COMPRESS_BYTE_COUNT	470754
+SHUFFLE	COPY_MAP_DATA	28596000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1616728
+SHUFFLE	COMPRESS_BYTE_COUNT	452383
+SHUFFLE	COPY_MAP_DATA	24979000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1529875
+SHUFFLE	COMPRESS_BYTE_COUNT	444224
+SHUFFLE	COPY_MAP_DATA	24214000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1624903
+SHUFFLE	COMPRESS_BYTE_COUNT	475539
+SHUFFLE	COPY_MAP_DATA	159727000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1714926
+SHUFFLE	COMPRESS_BYTE_COUNT	491347
+SHUFFLE	COPY_MAP_DATA	45275000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1687751
+SHUFFLE	COMPRESS_BYTE_COUNT	471052
+SHUFFLE	COPY_MAP_DATA	79480000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1927948
+SHUFFLE	COMPRESS_BYTE_COUNT	518670
+SHUFFLE	COPY_MAP_DATA	224055000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1903060
+SHUFFLE	COMPRESS_BYTE_COUNT	581962
+SHUFFLE	COPY_MAP_DATA	155103000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1611346
+SHUFFLE	COMPRESS_BYTE_COUNT	463503
+SHUFFLE	COPY_MAP_DATA	57882000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1746333
+SHUFFLE	COMPRESS_BYTE_COUNT	496855
+SHUFFLE	COPY_MAP_DATA	294043000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1903922
+SHUFFLE	COMPRESS_BYTE_COUNT	579025
+SHUFFLE	COPY_MAP_DATA	10356966000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1706944
+SHUFFLE	COMPRESS_BYTE_COUNT	485695
+SHUFFLE	COPY_MAP_DATA	47845000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1921946
+SHUFFLE	COMPRESS_BYTE_COUNT	539662
+SHUFFLE	COPY_MAP_DATA	28799000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1745936
+SHUFFLE	COMPRESS_BYTE_COUNT	495855
+SHUFFLE	COPY_MAP_DATA	123147000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1802803
+SHUFFLE	COMPRESS_BYTE_COUNT	533790
+SHUFFLE	COPY_MAP_DATA	38832000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1890252
+SHUFFLE	COMPRESS_BYTE_COUNT	515717
+SHUFFLE	COPY_MAP_DATA	26696000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1631398
+SHUFFLE	COMPRESS_BYTE_COUNT	480538
+SHUFFLE	COPY_MAP_DATA	26506000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	860216
+SHUFFLE	COMPRESS_BYTE_COUNT	238841
+SHUFFLE	COPY_MAP_DATA	1554560000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1814214
+SHUFFLE	COMPRESS_BYTE_COUNT	551047
+SHUFFLE	COPY_MAP_DATA	28962000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1574873
+SHUFFLE	COMPRESS_BYTE_COUNT	452824
+SHUFFLE	COPY_MAP_DATA	26805000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1659689
+SHUFFLE	COMPRESS_BYTE_COUNT	471325
+SHUFFLE	COPY_MAP_DATA	2183624000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1659469
+SHUFFLE	COMPRESS_BYTE_COUNT	462750
+SHUFFLE	COPY_MAP_DATA	25136000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1001239
+SHUFFLE	COMPRESS_BYTE_COUNT	265634
+SHUFFLE	COPY_MAP_DATA	219900000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	888422
+SHUFFLE	COMPRESS_BYTE_COUNT	247921
+SHUFFLE	COPY_MAP_DATA	15161000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1559700
+SHUFFLE	COMPRESS_BYTE_COUNT	465311
+SHUFFLE	COPY_MAP_DATA	24826000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	955613
+SHUFFLE	COMPRESS_BYTE_COUNT	272628
+SHUFFLE	COPY_MAP_DATA	14228000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1022688
+SHUFFLE	COMPRESS_BYTE_COUNT	295589
+SHUFFLE	COPY_MAP_DATA	19552000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1901171
+SHUFFLE	COMPRESS_BYTE_COUNT	501732
+SHUFFLE	COPY_MAP_DATA	27460000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	877431
+SHUFFLE	COMPRESS_BYTE_COUNT	251717
+SHUFFLE	COPY_MAP_DATA	15627000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	808101
+SHUFFLE	COMPRESS_BYTE_COUNT	239001
+SHUFFLE	COPY_MAP_DATA	14464000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1484460
+SHUFFLE	COMPRESS_BYTE_COUNT	435471
+SHUFFLE	COPY_MAP_DATA	23838000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1647149
+SHUFFLE	COMPRESS_BYTE_COUNT	476858
+SHUFFLE	COPY_MAP_DATA	90175000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1700938
+SHUFFLE	COMPRESS_BYTE_COUNT	494431
+SHUFFLE	COPY_MAP_DATA	3712080000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1601734
+SHUFFLE	COMPRESS_BYTE_COUNT	462291
+SHUFFLE	COPY_MAP_DATA	44384000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1541147
+SHUFFLE	COMPRESS_BYTE_COUNT	430204
+SHUFFLE	COPY_MAP_DATA	23646000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1061324
+SHUFFLE	COMPRESS_BYTE_COUNT	299071
+SHUFFLE	COPY_MAP_DATA	27842000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1481929
+SHUFFLE	COMPRESS_BYTE_COUNT	445287
+SHUFFLE	COPY_MAP_DATA	23684000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1623398
+SHUFFLE	COMPRESS_BYTE_COUNT	452584
+SHUFFLE	COPY_MAP_DATA	24963000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1134698
+SHUFFLE	COMPRESS_BYTE_COUNT	304686
+SHUFFLE	COPY_MAP_DATA	51149000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1004449
+SHUFFLE	COMPRESS_BYTE_COUNT	291164
+SHUFFLE	COPY_MAP_DATA	17136000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1846232
+SHUFFLE	COMPRESS_BYTE_COUNT	528841
+SHUFFLE	COPY_MAP_DATA	30780000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1807767
+SHUFFLE	COMPRESS_BYTE_COUNT	548319
+SHUFFLE	COPY_MAP_DATA	128466000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	976403
+SHUFFLE	COMPRESS_BYTE_COUNT	281981
+SHUFFLE	COPY_MAP_DATA	52937000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1891486
+SHUFFLE	COMPRESS_BYTE_COUNT	392408
+SHUFFLE	COPY_MAP_DATA	24603000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	976971
+SHUFFLE	COMPRESS_BYTE_COUNT	285378
+SHUFFLE	COPY_MAP_DATA	118104000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1694230
+SHUFFLE	COMPRESS_BYTE_COUNT	480807
+SHUFFLE	COPY_MAP_DATA	129523000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1707027
+SHUFFLE	COMPRESS_BYTE_COUNT	483303
+SHUFFLE	COPY_MAP_DATA	178503000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1686940
+SHUFFLE	COMPRESS_BYTE_COUNT	477432
+SHUFFLE	COPY_MAP_DATA	153046000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1843403
+SHUFFLE	COMPRESS_BYTE_COUNT	528133
+SHUFFLE	COPY_MAP_DATA	27708000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1059576
+SHUFFLE	COMPRESS_BYTE_COUNT	302709
+SHUFFLE	COPY_MAP_DATA	17888000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1644041
+SHUFFLE	COMPRESS_BYTE_COUNT	502135
+SHUFFLE	COPY_MAP_DATA	26076000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1059305
+SHUFFLE	COMPRESS_BYTE_COUNT	301568
+SHUFFLE	COPY_MAP_DATA	1021113000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1998880
+SHUFFLE	COMPRESS_BYTE_COUNT	527640
+SHUFFLE	COPY_MAP_DATA	90995000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1089357
+SHUFFLE	COMPRESS_BYTE_COUNT	313851
+SHUFFLE	COPY_MAP_DATA	211498000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	958085
+SHUFFLE	COMPRESS_BYTE_COUNT	294629
+SHUFFLE	COPY_MAP_DATA	812916000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1037703
+SHUFFLE	COMPRESS_BYTE_COUNT	297715
+SHUFFLE	COPY_MAP_DATA	215870000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1039906
+SHUFFLE	COMPRESS_BYTE_COUNT	306426
+SHUFFLE	COPY_MAP_DATA	17974000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1042343
+SHUFFLE	COMPRESS_BYTE_COUNT	303845
+SHUFFLE	COPY_MAP_DATA	213255000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	981941
+SHUFFLE	COMPRESS_BYTE_COUNT	276907
+SHUFFLE	COPY_MAP_DATA	2081104000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1037580
+SHUFFLE	COMPRESS_BYTE_COUNT	303221
+SHUFFLE	COPY_MAP_DATA	143891000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1037540
+SHUFFLE	COMPRESS_BYTE_COUNT	302447
+SHUFFLE	COPY_MAP_DATA	52779000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1050461
+SHUFFLE	COMPRESS_BYTE_COUNT	301251
+SHUFFLE	COPY_MAP_DATA	17793000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1033596
+SHUFFLE	COMPRESS_BYTE_COUNT	304620
+SHUFFLE	COPY_MAP_DATA	53429000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1035054
+SHUFFLE	COMPRESS_BYTE_COUNT	299199
+SHUFFLE	COPY_MAP_DATA	226649000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1056374
+SHUFFLE	COMPRESS_BYTE_COUNT	310586
+SHUFFLE	COPY_MAP_DATA	37775000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1026446
+SHUFFLE	COMPRESS_BYTE_COUNT	299834
+SHUFFLE	COPY_MAP_DATA	581706000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1110624
+SHUFFLE	COMPRESS_BYTE_COUNT	302230
+SHUFFLE	COPY_MAP_DATA	1609860000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1045365
+SHUFFLE	COMPRESS_BYTE_COUNT	305073
+SHUFFLE	COPY_MAP_DATA	17614000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1032596
+SHUFFLE	COMPRESS_BYTE_COUNT	298452
+SHUFFLE	COPY_MAP_DATA	16832000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1106303
+SHUFFLE	COMPRESS_BYTE_COUNT	321527
+SHUFFLE	COPY_MAP_DATA	20025000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1004045
+SHUFFLE	COMPRESS_BYTE_COUNT	294506
+SHUFFLE	COPY_MAP_DATA	16821000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1054535
+SHUFFLE	COMPRESS_BYTE_COUNT	313893
+SHUFFLE	COPY_MAP_DATA	18311000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1015520
+SHUFFLE	COMPRESS_BYTE_COUNT	306302
+SHUFFLE	COPY_MAP_DATA	38257000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1029131
+SHUFFLE	COMPRESS_BYTE_COUNT	308782
+SHUFFLE	COPY_MAP_DATA	104129000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1140429
+SHUFFLE	COMPRESS_BYTE_COUNT	315750
+SHUFFLE	COPY_MAP_DATA	488867000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	990916
+SHUFFLE	COMPRESS_BYTE_COUNT	298440
+SHUFFLE	COPY_MAP_DATA	494181000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1034928
+SHUFFLE	COMPRESS_BYTE_COUNT	307150
+SHUFFLE	COPY_MAP_DATA	75556000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1005618
+SHUFFLE	COMPRESS_BYTE_COUNT	290549
+SHUFFLE	COPY_MAP_DATA	17821000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	979181
+SHUFFLE	COMPRESS_BYTE_COUNT	295640
+SHUFFLE	COPY_MAP_DATA	28862000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1037992
+SHUFFLE	COMPRESS_BYTE_COUNT	306155
+SHUFFLE	COPY_MAP_DATA	1307902000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1039574
+SHUFFLE	COMPRESS_BYTE_COUNT	305480
+SHUFFLE	COPY_MAP_DATA	18019000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1038199
+SHUFFLE	COMPRESS_BYTE_COUNT	310212
+SHUFFLE	COPY_MAP_DATA	17773000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1019466
+SHUFFLE	COMPRESS_BYTE_COUNT	297221
+SHUFFLE	COPY_MAP_DATA	16973000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1021109
+SHUFFLE	COMPRESS_BYTE_COUNT	314168
+SHUFFLE	COPY_MAP_DATA	17968000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1007634
+SHUFFLE	COMPRESS_BYTE_COUNT	294763
+SHUFFLE	COPY_MAP_DATA	21359000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	999765
+SHUFFLE	COMPRESS_BYTE_COUNT	304633
+SHUFFLE	COPY_MAP_DATA	17331000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	980749
+SHUFFLE	COMPRESS_BYTE_COUNT	301640
+SHUFFLE	COPY_MAP_DATA	54162000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1087532
+SHUFFLE	COMPRESS_BYTE_COUNT	284446
+SHUFFLE	COPY_MAP_DATA	162677000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1023163
+SHUFFLE	COMPRESS_BYTE_COUNT	309102
+SHUFFLE	COPY_MAP_DATA	18371000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	983420
+SHUFFLE	COMPRESS_BYTE_COUNT	299630
+SHUFFLE	COPY_MAP_DATA	385356000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1051594
+SHUFFLE	COMPRESS_BYTE_COUNT	291871
+SHUFFLE	COPY_MAP_DATA	233080000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1007995
+SHUFFLE	COMPRESS_BYTE_COUNT	302012
+SHUFFLE	COPY_MAP_DATA	16338000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1009949
+SHUFFLE	COMPRESS_BYTE_COUNT	302480
+SHUFFLE	COPY_MAP_DATA	35356000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1095856
+SHUFFLE	COMPRESS_BYTE_COUNT	305721
+SHUFFLE	COPY_MAP_DATA	60355000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	990385
+SHUFFLE	COMPRESS_BYTE_COUNT	302484
+SHUFFLE	COPY_MAP_DATA	660202000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1042447
+SHUFFLE	COMPRESS_BYTE_COUNT	305287
+SHUFFLE	COPY_MAP_DATA	47824000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	968753
+SHUFFLE	COMPRESS_BYTE_COUNT	301858
+SHUFFLE	COPY_MAP_DATA	193931000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	975792
+SHUFFLE	COMPRESS_BYTE_COUNT	290193
+SHUFFLE	COPY_MAP_DATA	17949000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	988654
+SHUFFLE	COMPRESS_BYTE_COUNT	296000
+SHUFFLE	COPY_MAP_DATA	84266000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1060199
+SHUFFLE	COMPRESS_BYTE_COUNT	309403
+SHUFFLE	COPY_MAP_DATA	20680000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	936082
+SHUFFLE	COMPRESS_BYTE_COUNT	289975
+SHUFFLE	COPY_MAP_DATA	18232000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1020992
+SHUFFLE	COMPRESS_BYTE_COUNT	300998
+SHUFFLE	COPY_MAP_DATA	27980000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	918387
+SHUFFLE	COMPRESS_BYTE_COUNT	283758
+SHUFFLE	COPY_MAP_DATA	29759000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1016696
+SHUFFLE	COMPRESS_BYTE_COUNT	299996
+SHUFFLE	COPY_MAP_DATA	75559000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	998611
+SHUFFLE	COMPRESS_BYTE_COUNT	304895
+SHUFFLE	COPY_MAP_DATA	129863000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	975222
+SHUFFLE	COMPRESS_BYTE_COUNT	300763
+SHUFFLE	COPY_MAP_DATA	972440000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	999310
+SHUFFLE	COMPRESS_BYTE_COUNT	298135
+SHUFFLE	COPY_MAP_DATA	47840000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1004165
+SHUFFLE	COMPRESS_BYTE_COUNT	303320
+SHUFFLE	COPY_MAP_DATA	62205000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	952584
+SHUFFLE	COMPRESS_BYTE_COUNT	293593
+SHUFFLE	COPY_MAP_DATA	29521000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1019789
+SHUFFLE	COMPRESS_BYTE_COUNT	307613
+SHUFFLE	COPY_MAP_DATA	16746000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	902473
+SHUFFLE	COMPRESS_BYTE_COUNT	278942
+SHUFFLE	COPY_MAP_DATA	71771000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	959313
+SHUFFLE	COMPRESS_BYTE_COUNT	293242
+SHUFFLE	COPY_MAP_DATA	77183000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	917743
+SHUFFLE	COMPRESS_BYTE_COUNT	285018
+SHUFFLE	COPY_MAP_DATA	17189000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1016764
+SHUFFLE	COMPRESS_BYTE_COUNT	308734
+SHUFFLE	COPY_MAP_DATA	17225000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	997856
+SHUFFLE	COMPRESS_BYTE_COUNT	294812
+SHUFFLE	COPY_MAP_DATA	17334000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	990279
+SHUFFLE	COMPRESS_BYTE_COUNT	299208
+SHUFFLE	COPY_MAP_DATA	26976000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1003355
+SHUFFLE	COMPRESS_BYTE_COUNT	302608
+SHUFFLE	COPY_MAP_DATA	125258000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	935294
+SHUFFLE	COMPRESS_BYTE_COUNT	287714
+SHUFFLE	COPY_MAP_DATA	105430000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	904498
+SHUFFLE	COMPRESS_BYTE_COUNT	278157
+SHUFFLE	COPY_MAP_DATA	163384000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	960367
+SHUFFLE	COMPRESS_BYTE_COUNT	286599
+SHUFFLE	COPY_MAP_DATA	23798000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	944901
+SHUFFLE	COMPRESS_BYTE_COUNT	286916
+SHUFFLE	COPY_MAP_DATA	16553000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	987698
+SHUFFLE	COMPRESS_BYTE_COUNT	301024
+SHUFFLE	COPY_MAP_DATA	122184000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	948999
+SHUFFLE	COMPRESS_BYTE_COUNT	293245
+SHUFFLE	COPY_MAP_DATA	146674000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	928350
+SHUFFLE	COMPRESS_BYTE_COUNT	291608
+SHUFFLE	COPY_MAP_DATA	262356000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	977331
+SHUFFLE	COMPRESS_BYTE_COUNT	302125
+SHUFFLE	COPY_MAP_DATA	248925000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	942781
+SHUFFLE	COMPRESS_BYTE_COUNT	292527
+SHUFFLE	COPY_MAP_DATA	152693000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	968639
+SHUFFLE	COMPRESS_BYTE_COUNT	300666
+SHUFFLE	COPY_MAP_DATA	77956000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	967584
+SHUFFLE	COMPRESS_BYTE_COUNT	286373
+SHUFFLE	COPY_MAP_DATA	15118000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	945541
+SHUFFLE	COMPRESS_BYTE_COUNT	296124
+SHUFFLE	COPY_MAP_DATA	98648000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	886578
+SHUFFLE	COMPRESS_BYTE_COUNT	270365
+SHUFFLE	COPY_MAP_DATA	481461000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	887402
+SHUFFLE	COMPRESS_BYTE_COUNT	273737
+SHUFFLE	COPY_MAP_DATA	26869000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	934100
+SHUFFLE	COMPRESS_BYTE_COUNT	286194
+SHUFFLE	COPY_MAP_DATA	22654000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	880495
+SHUFFLE	COMPRESS_BYTE_COUNT	256273
+SHUFFLE	COPY_MAP_DATA	1057995000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	948341
+SHUFFLE	COMPRESS_BYTE_COUNT	286222
+SHUFFLE	COPY_MAP_DATA	139920000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	886345
+SHUFFLE	COMPRESS_BYTE_COUNT	273019
+SHUFFLE	COPY_MAP_DATA	15115000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	869277
+SHUFFLE	COMPRESS_BYTE_COUNT	261179
+SHUFFLE	COPY_MAP_DATA	13601000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	971825
+SHUFFLE	COMPRESS_BYTE_COUNT	286372
+SHUFFLE	COPY_MAP_DATA	563338000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	919962
+SHUFFLE	COMPRESS_BYTE_COUNT	280640
+SHUFFLE	COPY_MAP_DATA	170880000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	976365
+SHUFFLE	COMPRESS_BYTE_COUNT	296992
+SHUFFLE	COPY_MAP_DATA	463344000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	950844
+SHUFFLE	COMPRESS_BYTE_COUNT	294507
+SHUFFLE	COPY_MAP_DATA	48108000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	943847
+SHUFFLE	COMPRESS_BYTE_COUNT	267425
+SHUFFLE	COPY_MAP_DATA	14782000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	913693
+SHUFFLE	COMPRESS_BYTE_COUNT	263725
+SHUFFLE	COPY_MAP_DATA	315997000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	869916
+SHUFFLE	COMPRESS_BYTE_COUNT	274494
+SHUFFLE	COPY_MAP_DATA	1437261000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	959606
+SHUFFLE	COMPRESS_BYTE_COUNT	294128
+SHUFFLE	COPY_MAP_DATA	187211000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	867965
+SHUFFLE	COMPRESS_BYTE_COUNT	270293
+SHUFFLE	COPY_MAP_DATA	46949000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	935625
+SHUFFLE	COMPRESS_BYTE_COUNT	285298
+SHUFFLE	COPY_MAP_DATA	16971000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	827842
+SHUFFLE	COMPRESS_BYTE_COUNT	250596
+SHUFFLE	COPY_MAP_DATA	14652000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	823689
+SHUFFLE	COMPRESS_BYTE_COUNT	251340
+SHUFFLE	COPY_MAP_DATA	14743000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1004145
+SHUFFLE	COMPRESS_BYTE_COUNT	287073
+SHUFFLE	COPY_MAP_DATA	2223836000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	874508
+SHUFFLE	COMPRESS_BYTE_COUNT	259668
+SHUFFLE	COPY_MAP_DATA	15168000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	938407
+SHUFFLE	COMPRESS_BYTE_COUNT	273027
+SHUFFLE	COPY_MAP_DATA	15999000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	886136
+SHUFFLE	COMPRESS_BYTE_COUNT	275072
+SHUFFLE	COPY_MAP_DATA	16530000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	836909
+SHUFFLE	COMPRESS_BYTE_COUNT	254779
+SHUFFLE	COPY_MAP_DATA	15396000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	885364
+SHUFFLE	COMPRESS_BYTE_COUNT	268230
+SHUFFLE	COPY_MAP_DATA	14271000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	843856
+SHUFFLE	COMPRESS_BYTE_COUNT	254179
+SHUFFLE	COPY_MAP_DATA	15337000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1035065
+SHUFFLE	COMPRESS_BYTE_COUNT	298886
+SHUFFLE	COPY_MAP_DATA	17270000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	812554
+SHUFFLE	COMPRESS_BYTE_COUNT	247898
+SHUFFLE	COPY_MAP_DATA	15829000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	861631
+SHUFFLE	COMPRESS_BYTE_COUNT	250621
+SHUFFLE	COPY_MAP_DATA	14826000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	889328
+SHUFFLE	COMPRESS_BYTE_COUNT	263637
+SHUFFLE	COPY_MAP_DATA	15405000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	895885
+SHUFFLE	COMPRESS_BYTE_COUNT	266075
+SHUFFLE	COPY_MAP_DATA	14124000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	912904
+SHUFFLE	COMPRESS_BYTE_COUNT	270418
+SHUFFLE	COPY_MAP_DATA	1139790000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	793035
+SHUFFLE	COMPRESS_BYTE_COUNT	238466
+SHUFFLE	COPY_MAP_DATA	574755000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	969172
+SHUFFLE	COMPRESS_BYTE_COUNT	231720
+SHUFFLE	COPY_MAP_DATA	63926000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	949863
+SHUFFLE	COMPRESS_BYTE_COUNT	286402
+SHUFFLE	COPY_MAP_DATA	316776000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	813743
+SHUFFLE	COMPRESS_BYTE_COUNT	241336
+SHUFFLE	COPY_MAP_DATA	50658000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	835760
+SHUFFLE	COMPRESS_BYTE_COUNT	257918
+SHUFFLE	COPY_MAP_DATA	231458000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	765080
+SHUFFLE	COMPRESS_BYTE_COUNT	237556
+SHUFFLE	COPY_MAP_DATA	219115000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	840025
+SHUFFLE	COMPRESS_BYTE_COUNT	252046
+SHUFFLE	COPY_MAP_DATA	60974000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	819832
+SHUFFLE	COMPRESS_BYTE_COUNT	247861
+SHUFFLE	COPY_MAP_DATA	14012000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	865535
+SHUFFLE	COMPRESS_BYTE_COUNT	256122
+SHUFFLE	COPY_MAP_DATA	442317000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	822140
+SHUFFLE	COMPRESS_BYTE_COUNT	252545
+SHUFFLE	COPY_MAP_DATA	31574000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	845656
+SHUFFLE	COMPRESS_BYTE_COUNT	243755
+SHUFFLE	COPY_MAP_DATA	24842000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	820243
+SHUFFLE	COMPRESS_BYTE_COUNT	248515
+SHUFFLE	COPY_MAP_DATA	15327000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	786382
+SHUFFLE	COMPRESS_BYTE_COUNT	238068
+SHUFFLE	COPY_MAP_DATA	397696000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	845970
+SHUFFLE	COMPRESS_BYTE_COUNT	249310
+SHUFFLE	COPY_MAP_DATA	107089000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	838007
+SHUFFLE	COMPRESS_BYTE_COUNT	255043
+SHUFFLE	COPY_MAP_DATA	19118000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	789515
+SHUFFLE	COMPRESS_BYTE_COUNT	235110
+SHUFFLE	COPY_MAP_DATA	14166000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	989345
+SHUFFLE	COMPRESS_BYTE_COUNT	287875
+SHUFFLE	COPY_MAP_DATA	1749929000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	874118
+SHUFFLE	COMPRESS_BYTE_COUNT	266631
+SHUFFLE	COPY_MAP_DATA	14363000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	932603
+SHUFFLE	COMPRESS_BYTE_COUNT	270299
+SHUFFLE	COPY_MAP_DATA	16312000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	848793
+SHUFFLE	COMPRESS_BYTE_COUNT	250673
+SHUFFLE	COPY_MAP_DATA	15342000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	837926
+SHUFFLE	COMPRESS_BYTE_COUNT	252290
+SHUFFLE	COPY_MAP_DATA	14687000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1137982
+SHUFFLE	COMPRESS_BYTE_COUNT	361337
+SHUFFLE	COPY_MAP_DATA	19975000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	864064
+SHUFFLE	COMPRESS_BYTE_COUNT	234852
+SHUFFLE	COPY_MAP_DATA	13930000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	867947
+SHUFFLE	COMPRESS_BYTE_COUNT	256823
+SHUFFLE	COPY_MAP_DATA	131945000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	833898
+SHUFFLE	COMPRESS_BYTE_COUNT	251059
+SHUFFLE	COPY_MAP_DATA	15190000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	808637
+SHUFFLE	COMPRESS_BYTE_COUNT	240806
+SHUFFLE	COPY_MAP_DATA	71930000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1011806
+SHUFFLE	COMPRESS_BYTE_COUNT	281907
+SHUFFLE	COPY_MAP_DATA	16619000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	836565
+SHUFFLE	COMPRESS_BYTE_COUNT	245500
+SHUFFLE	COPY_MAP_DATA	14776000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	786979
+SHUFFLE	COMPRESS_BYTE_COUNT	239553
+SHUFFLE	COPY_MAP_DATA	13782000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	823398
+SHUFFLE	COMPRESS_BYTE_COUNT	243274
+SHUFFLE	COPY_MAP_DATA	132137000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	850905
+SHUFFLE	COMPRESS_BYTE_COUNT	248238
+SHUFFLE	COPY_MAP_DATA	16899000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	846040
+SHUFFLE	COMPRESS_BYTE_COUNT	243668
+SHUFFLE	COPY_MAP_DATA	14341000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	881019
+SHUFFLE	COMPRESS_BYTE_COUNT	269536
+SHUFFLE	COPY_MAP_DATA	366423000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	874921
+SHUFFLE	COMPRESS_BYTE_COUNT	260603
+SHUFFLE	COPY_MAP_DATA	15046000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	878388
+SHUFFLE	COMPRESS_BYTE_COUNT	256265
+SHUFFLE	COPY_MAP_DATA	48214000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	975530
+SHUFFLE	COMPRESS_BYTE_COUNT	287830
+SHUFFLE	COPY_MAP_DATA	16963000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	876921
+SHUFFLE	COMPRESS_BYTE_COUNT	250674
+SHUFFLE	COPY_MAP_DATA	394363000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	813446
+SHUFFLE	COMPRESS_BYTE_COUNT	231482
+SHUFFLE	COPY_MAP_DATA	35014000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	802526
+SHUFFLE	COMPRESS_BYTE_COUNT	242631
+SHUFFLE	COPY_MAP_DATA	25855000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	809260
+SHUFFLE	COMPRESS_BYTE_COUNT	243732
+SHUFFLE	COPY_MAP_DATA	455379000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	784689
+SHUFFLE	COMPRESS_BYTE_COUNT	240440
+SHUFFLE	COPY_MAP_DATA	13927000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	819225
+SHUFFLE	COMPRESS_BYTE_COUNT	243046
+SHUFFLE	COPY_MAP_DATA	574868000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	837060
+SHUFFLE	COMPRESS_BYTE_COUNT	245152
+SHUFFLE	COPY_MAP_DATA	214283000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	813431
+SHUFFLE	COMPRESS_BYTE_COUNT	236711
+SHUFFLE	COPY_MAP_DATA	14937000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	743495
+SHUFFLE	COMPRESS_BYTE_COUNT	221353
+SHUFFLE	COPY_MAP_DATA	832759000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	833901
+SHUFFLE	COMPRESS_BYTE_COUNT	244591
+SHUFFLE	COPY_MAP_DATA	1922687000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	894110
+SHUFFLE	COMPRESS_BYTE_COUNT	258032
+SHUFFLE	COPY_MAP_DATA	16083000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	803292
+SHUFFLE	COMPRESS_BYTE_COUNT	236442
+SHUFFLE	COPY_MAP_DATA	29181000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	792123
+SHUFFLE	COMPRESS_BYTE_COUNT	236592
+SHUFFLE	COPY_MAP_DATA	112262000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1063899
+SHUFFLE	COMPRESS_BYTE_COUNT	342423
+SHUFFLE	COPY_MAP_DATA	320614000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	797766
+SHUFFLE	COMPRESS_BYTE_COUNT	240456
+SHUFFLE	COPY_MAP_DATA	183755000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	827215
+SHUFFLE	COMPRESS_BYTE_COUNT	232118
+SHUFFLE	COPY_MAP_DATA	147540000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	848219
+SHUFFLE	COMPRESS_BYTE_COUNT	258617
+SHUFFLE	COPY_MAP_DATA	15762000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	764079
+SHUFFLE	COMPRESS_BYTE_COUNT	232057
+SHUFFLE	COPY_MAP_DATA	13643000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	865736
+SHUFFLE	COMPRESS_BYTE_COUNT	255281
+SHUFFLE	COPY_MAP_DATA	18637000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	942867
+SHUFFLE	COMPRESS_BYTE_COUNT	267967
+SHUFFLE	COPY_MAP_DATA	95601000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	996144
+SHUFFLE	COMPRESS_BYTE_COUNT	274916
+SHUFFLE	COPY_MAP_DATA	15303000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	912037
+SHUFFLE	COMPRESS_BYTE_COUNT	266775
+SHUFFLE	COPY_MAP_DATA	15003000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	735719
+SHUFFLE	COMPRESS_BYTE_COUNT	231891
+SHUFFLE	COPY_MAP_DATA	12325000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	843927
+SHUFFLE	COMPRESS_BYTE_COUNT	236872
+SHUFFLE	COPY_MAP_DATA	2299513000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	835405
+SHUFFLE	COMPRESS_BYTE_COUNT	254676
+SHUFFLE	COPY_MAP_DATA	80485000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	781882
+SHUFFLE	COMPRESS_BYTE_COUNT	235379
+SHUFFLE	COPY_MAP_DATA	223013000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	819854
+SHUFFLE	COMPRESS_BYTE_COUNT	242489
+SHUFFLE	COPY_MAP_DATA	1002719000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1008683
+SHUFFLE	COMPRESS_BYTE_COUNT	274979
+SHUFFLE	COPY_MAP_DATA	86242000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	777275
+SHUFFLE	COMPRESS_BYTE_COUNT	237636
+SHUFFLE	COPY_MAP_DATA	1197701000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	923951
+SHUFFLE	COMPRESS_BYTE_COUNT	272586
+SHUFFLE	COPY_MAP_DATA	17656000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1084094
+SHUFFLE	COMPRESS_BYTE_COUNT	280318
+SHUFFLE	COPY_MAP_DATA	7073121000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	776737
+SHUFFLE	COMPRESS_BYTE_COUNT	231141
+SHUFFLE	COPY_MAP_DATA	64525000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	993001
+SHUFFLE	COMPRESS_BYTE_COUNT	270138
+SHUFFLE	COPY_MAP_DATA	32071000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	870704
+SHUFFLE	COMPRESS_BYTE_COUNT	259425
+SHUFFLE	COPY_MAP_DATA	29481000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	836374
+SHUFFLE	COMPRESS_BYTE_COUNT	245845
+SHUFFLE	COPY_MAP_DATA	45650000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	740228
+SHUFFLE	COMPRESS_BYTE_COUNT	231201
+SHUFFLE	COPY_MAP_DATA	15108000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	781840
+SHUFFLE	COMPRESS_BYTE_COUNT	228667
+SHUFFLE	COPY_MAP_DATA	52606000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	999513
+SHUFFLE	COMPRESS_BYTE_COUNT	311568
+SHUFFLE	COPY_MAP_DATA	16467000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	761936
+SHUFFLE	COMPRESS_BYTE_COUNT	239793
+SHUFFLE	COPY_MAP_DATA	68314000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	870414
+SHUFFLE	COMPRESS_BYTE_COUNT	261281
+SHUFFLE	COPY_MAP_DATA	78974000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	735719
+SHUFFLE	COMPRESS_BYTE_COUNT	231891
+SHUFFLE	COPY_MAP_DATA	37925000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	827711
+SHUFFLE	COMPRESS_BYTE_COUNT	234441
+SHUFFLE	COPY_MAP_DATA	239098000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	697222
+SHUFFLE	COMPRESS_BYTE_COUNT	208872
+SHUFFLE	COPY_MAP_DATA	15897000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	992701
+SHUFFLE	COMPRESS_BYTE_COUNT	207284
+SHUFFLE	COPY_MAP_DATA	152007000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	834155
+SHUFFLE	COMPRESS_BYTE_COUNT	247515
+SHUFFLE	COPY_MAP_DATA	231642000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	866521
+SHUFFLE	COMPRESS_BYTE_COUNT	261041
+SHUFFLE	COPY_MAP_DATA	14909000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	922316
+SHUFFLE	COMPRESS_BYTE_COUNT	173231
+SHUFFLE	COPY_MAP_DATA	95067000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	977669
+SHUFFLE	COMPRESS_BYTE_COUNT	287431
+SHUFFLE	COPY_MAP_DATA	176162000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	929754
+SHUFFLE	COMPRESS_BYTE_COUNT	260043
+SHUFFLE	COPY_MAP_DATA	265078000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	741703
+SHUFFLE	COMPRESS_BYTE_COUNT	227589
+SHUFFLE	COPY_MAP_DATA	2420460000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	839859
+SHUFFLE	COMPRESS_BYTE_COUNT	237187
+SHUFFLE	COPY_MAP_DATA	14503000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	908172
+SHUFFLE	COMPRESS_BYTE_COUNT	253365
+SHUFFLE	COPY_MAP_DATA	14061000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	648088
+SHUFFLE	COMPRESS_BYTE_COUNT	203531
+SHUFFLE	COPY_MAP_DATA	12027000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	852852
+SHUFFLE	COMPRESS_BYTE_COUNT	238286
+SHUFFLE	COPY_MAP_DATA	133655000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1074931
+SHUFFLE	COMPRESS_BYTE_COUNT	269122
+SHUFFLE	COPY_MAP_DATA	15311000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	926750
+SHUFFLE	COMPRESS_BYTE_COUNT	293612
+SHUFFLE	COPY_MAP_DATA	16123000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	834090
+SHUFFLE	COMPRESS_BYTE_COUNT	252316
+SHUFFLE	COPY_MAP_DATA	43591000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	809954
+SHUFFLE	COMPRESS_BYTE_COUNT	234895
+SHUFFLE	COPY_MAP_DATA	38812000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1001662
+SHUFFLE	COMPRESS_BYTE_COUNT	318206
+SHUFFLE	COPY_MAP_DATA	17161000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	758679
+SHUFFLE	COMPRESS_BYTE_COUNT	244742
+SHUFFLE	COPY_MAP_DATA	24440000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	204761590000
+MERGE	READ_WRITE	204021378000
+MERGE	READ_WRITE_COUNT	2
+MERGE	COMBINE	0
+MERGE	WRITE	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	41996940000
+SORT	READ_WRITE	41877175000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	139899544
+REDUCE	SETUP	313000
+REDUCE	SETUP_MEM	139899544
+REDUCE	CLEANUP	31000
+REDUCE	CLEANUP_MEM	212416896
+REDUCE	TOTAL_RUN	98979842000
+REDUCE	READ	8058138000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	84727182000
+REDUCE	WRITE	28275389000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	76795709
+REDUCE	VALUE_BYTE_COUNT	68951821
+REDUCE	REDUCE_MEM	212416896
+REDUCE	WRITE	21320000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	763834440000
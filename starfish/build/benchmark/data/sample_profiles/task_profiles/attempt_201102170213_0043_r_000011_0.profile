@@ -0,0 +1,1333 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1853528
+SHUFFLE	COMPRESS_BYTE_COUNT	540024
+SHUFFLE	COPY_MAP_DATA	250892000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1905907
+SHUFFLE	COMPRESS_BYTE_COUNT	550750
+SHUFFLE	COPY_MAP_DATA	182626000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1919678
+SHUFFLE	COMPRESS_BYTE_COUNT	546233
+SHUFFLE	COPY_MAP_DATA	110412000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1939671
+SHUFFLE	COMPRESS_BYTE_COUNT	566811
+SHUFFLE	COPY_MAP_DATA	43923000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1823156
+SHUFFLE	COMPRESS_BYTE_COUNT	469169
+SHUFFLE	COPY_MAP_DATA	96845000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1648402
+SHUFFLE	COMPRESS_BYTE_COUNT	463879
+SHUFFLE	COPY_MAP_DATA	221962000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1946105
+SHUFFLE	COMPRESS_BYTE_COUNT	560127
+SHUFFLE	COPY_MAP_DATA	33247000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1851571
+SHUFFLE	COMPRESS_BYTE_COUNT	552245
+SHUFFLE	COPY_MAP_DATA	86582000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2010192
+SHUFFLE	COMPRESS_BYTE_COUNT	554389
+SHUFFLE	COPY_MAP_DATA	59670000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1861818
+SHUFFLE	COMPRESS_BYTE_COUNT	546586
+SHUFFLE	COPY_MAP_DATA	46924000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1774603
+SHUFFLE	COMPRESS_BYTE_COUNT	538770
+SHUFFLE	COPY_MAP_DATA	37716000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1825862
+SHUFFLE	COMPRESS_BYTE_COUNT	514757
+SHUFFLE	COPY_MAP_DATA	45225000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1903880
+SHUFFLE	COMPRESS_BYTE_COUNT	566438
+SHUFFLE	COPY_MAP_DATA	45567000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1730653
+SHUFFLE	COMPRESS_BYTE_COUNT	480103
+SHUFFLE	COPY_MAP_DATA	27907000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1826434
+SHUFFLE	COMPRESS_BYTE_COUNT	544060
+SHUFFLE	COPY_MAP_DATA	39873000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1930520
+SHUFFLE	COMPRESS_BYTE_COUNT	536934
+SHUFFLE	COPY_MAP_DATA	37435000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1888356
+SHUFFLE	COMPRESS_BYTE_COUNT	559370
+SHUFFLE	COPY_MAP_DATA	92030000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1990937
+SHUFFLE	COMPRESS_BYTE_COUNT	567294
+SHUFFLE	COPY_MAP_DATA	106293000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1860509
+SHUFFLE	COMPRESS_BYTE_COUNT	551641
+SHUFFLE	COPY_MAP_DATA	37919000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1961290
+SHUFFLE	COMPRESS_BYTE_COUNT	533360
+SHUFFLE	COPY_MAP_DATA	152602000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1953289
+SHUFFLE	COMPRESS_BYTE_COUNT	554489
+SHUFFLE	COPY_MAP_DATA	32054000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2011371
+SHUFFLE	COMPRESS_BYTE_COUNT	550223
+SHUFFLE	COPY_MAP_DATA	121721000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1918254
+SHUFFLE	COMPRESS_BYTE_COUNT	565701
+SHUFFLE	COPY_MAP_DATA	80238000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1844958
+SHUFFLE	COMPRESS_BYTE_COUNT	546741
+SHUFFLE	COPY_MAP_DATA	156126000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1911858
+SHUFFLE	COMPRESS_BYTE_COUNT	563839
+SHUFFLE	COPY_MAP_DATA	75480000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1929724
+SHUFFLE	COMPRESS_BYTE_COUNT	560920
+SHUFFLE	COPY_MAP_DATA	51431000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1953387
+SHUFFLE	COMPRESS_BYTE_COUNT	546308
+SHUFFLE	COPY_MAP_DATA	43670000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1937595
+SHUFFLE	COMPRESS_BYTE_COUNT	540830
+SHUFFLE	COPY_MAP_DATA	33479000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2016359
+SHUFFLE	COMPRESS_BYTE_COUNT	549515
+SHUFFLE	COPY_MAP_DATA	31130000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2083432
+SHUFFLE	COMPRESS_BYTE_COUNT	571160
+SHUFFLE	COPY_MAP_DATA	141591000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1773150
+SHUFFLE	COMPRESS_BYTE_COUNT	521290
+SHUFFLE	COPY_MAP_DATA	126626000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1772036
+SHUFFLE	COMPRESS_BYTE_COUNT	538816
+SHUFFLE	COPY_MAP_DATA	33801000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1690548
+SHUFFLE	COMPRESS_BYTE_COUNT	517816
+SHUFFLE	COPY_MAP_DATA	49779000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1808060
+SHUFFLE	COMPRESS_BYTE_COUNT	548295
+SHUFFLE	COPY_MAP_DATA	706752000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1873935
+SHUFFLE	COMPRESS_BYTE_COUNT	558573
+SHUFFLE	COPY_MAP_DATA	135209000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1905691
+SHUFFLE	COMPRESS_BYTE_COUNT	558650
+SHUFFLE	COPY_MAP_DATA	32034000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1729000
+SHUFFLE	COMPRESS_BYTE_COUNT	533956
+SHUFFLE	COPY_MAP_DATA	80328000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1721781
+SHUFFLE	COMPRESS_BYTE_COUNT	525658
+SHUFFLE	COPY_MAP_DATA	62879000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1572332
+SHUFFLE	COMPRESS_BYTE_COUNT	420019
+SHUFFLE	COPY_MAP_DATA	26155000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1687220
+SHUFFLE	COMPRESS_BYTE_COUNT	526715
+SHUFFLE	COPY_MAP_DATA	26186000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1756827
+SHUFFLE	COMPRESS_BYTE_COUNT	534125
+SHUFFLE	COPY_MAP_DATA	44836000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1956173
+SHUFFLE	COMPRESS_BYTE_COUNT	563369
+SHUFFLE	COPY_MAP_DATA	30772000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1822879
+SHUFFLE	COMPRESS_BYTE_COUNT	549665
+SHUFFLE	COPY_MAP_DATA	392559000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1554222
+SHUFFLE	COMPRESS_BYTE_COUNT	458317
+SHUFFLE	COPY_MAP_DATA	28563000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1860214
+SHUFFLE	COMPRESS_BYTE_COUNT	552430
+SHUFFLE	COPY_MAP_DATA	3658489000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1758444
+SHUFFLE	COMPRESS_BYTE_COUNT	529803
+SHUFFLE	COPY_MAP_DATA	227076000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1764277
+SHUFFLE	COMPRESS_BYTE_COUNT	536334
+SHUFFLE	COPY_MAP_DATA	392776000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1774102
+SHUFFLE	COMPRESS_BYTE_COUNT	539680
+SHUFFLE	COPY_MAP_DATA	158086000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1602072
+SHUFFLE	COMPRESS_BYTE_COUNT	473509
+SHUFFLE	COPY_MAP_DATA	43738000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1611441
+SHUFFLE	COMPRESS_BYTE_COUNT	491657
+SHUFFLE	COPY_MAP_DATA	27195000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1700135
+SHUFFLE	COMPRESS_BYTE_COUNT	491258
+SHUFFLE	COPY_MAP_DATA	255129000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1620421
+SHUFFLE	COMPRESS_BYTE_COUNT	476397
+SHUFFLE	COPY_MAP_DATA	57739000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1689008
+SHUFFLE	COMPRESS_BYTE_COUNT	494174
+SHUFFLE	COPY_MAP_DATA	494504000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1844358
+SHUFFLE	COMPRESS_BYTE_COUNT	526336
+SHUFFLE	COPY_MAP_DATA	31983000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1726399
+SHUFFLE	COMPRESS_BYTE_COUNT	535615
+SHUFFLE	COPY_MAP_DATA	50461000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1810321
+SHUFFLE	COMPRESS_BYTE_COUNT	524768
+SHUFFLE	COPY_MAP_DATA	219567000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1941171
+SHUFFLE	COMPRESS_BYTE_COUNT	547005
+SHUFFLE	COPY_MAP_DATA	30231000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1884314
+SHUFFLE	COMPRESS_BYTE_COUNT	544892
+SHUFFLE	COPY_MAP_DATA	30877000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1711079
+SHUFFLE	COMPRESS_BYTE_COUNT	520962
+SHUFFLE	COPY_MAP_DATA	120247000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1703047
+SHUFFLE	COMPRESS_BYTE_COUNT	521491
+SHUFFLE	COPY_MAP_DATA	29704000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1656011
+SHUFFLE	COMPRESS_BYTE_COUNT	481487
+SHUFFLE	COPY_MAP_DATA	143059000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1558871
+SHUFFLE	COMPRESS_BYTE_COUNT	444784
+SHUFFLE	COPY_MAP_DATA	84815000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1546064
+SHUFFLE	COMPRESS_BYTE_COUNT	472867
+SHUFFLE	COPY_MAP_DATA	4104156000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1584975
+SHUFFLE	COMPRESS_BYTE_COUNT	475789
+SHUFFLE	COPY_MAP_DATA	28898000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1580091
+SHUFFLE	COMPRESS_BYTE_COUNT	470995
+SHUFFLE	COPY_MAP_DATA	26636000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1496077
+SHUFFLE	COMPRESS_BYTE_COUNT	444796
+SHUFFLE	COPY_MAP_DATA	26577000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1870939
+SHUFFLE	COMPRESS_BYTE_COUNT	537031
+SHUFFLE	COPY_MAP_DATA	287151000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1586384
+SHUFFLE	COMPRESS_BYTE_COUNT	470163
+SHUFFLE	COPY_MAP_DATA	141908000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1573610
+SHUFFLE	COMPRESS_BYTE_COUNT	455344
+SHUFFLE	COPY_MAP_DATA	1383150000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1443392
+SHUFFLE	COMPRESS_BYTE_COUNT	431201
+SHUFFLE	COPY_MAP_DATA	38422000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1568049
+SHUFFLE	COMPRESS_BYTE_COUNT	453106
+SHUFFLE	COPY_MAP_DATA	48578000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1615888
+SHUFFLE	COMPRESS_BYTE_COUNT	469819
+SHUFFLE	COPY_MAP_DATA	194993000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1620244
+SHUFFLE	COMPRESS_BYTE_COUNT	475534
+SHUFFLE	COPY_MAP_DATA	114377000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1526156
+SHUFFLE	COMPRESS_BYTE_COUNT	456368
+SHUFFLE	COPY_MAP_DATA	3004098000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1576301
+SHUFFLE	COMPRESS_BYTE_COUNT	466579
+SHUFFLE	COPY_MAP_DATA	79053000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1851318
+SHUFFLE	COMPRESS_BYTE_COUNT	572716
+SHUFFLE	COPY_MAP_DATA	228587000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1687814
+SHUFFLE	COMPRESS_BYTE_COUNT	481070
+SHUFFLE	COPY_MAP_DATA	25961000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1786487
+SHUFFLE	COMPRESS_BYTE_COUNT	559047
+SHUFFLE	COPY_MAP_DATA	28950000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1760318
+SHUFFLE	COMPRESS_BYTE_COUNT	512958
+SHUFFLE	COPY_MAP_DATA	1909478000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1569008
+SHUFFLE	COMPRESS_BYTE_COUNT	471380
+SHUFFLE	COPY_MAP_DATA	154058000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1569224
+SHUFFLE	COMPRESS_BYTE_COUNT	453555
+SHUFFLE	COPY_MAP_DATA	192501000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1670667
+SHUFFLE	COMPRESS_BYTE_COUNT	481233
+SHUFFLE	COPY_MAP_DATA	92096000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1627445
+SHUFFLE	COMPRESS_BYTE_COUNT	474883
+SHUFFLE	COPY_MAP_DATA	29376000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1698404
+SHUFFLE	COMPRESS_BYTE_COUNT	518745
+SHUFFLE	COPY_MAP_DATA	393327000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1590882
+SHUFFLE	COMPRESS_BYTE_COUNT	470501
+SHUFFLE	COPY_MAP_DATA	27315000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1588729
+SHUFFLE	COMPRESS_BYTE_COUNT	466911
+SHUFFLE	COPY_MAP_DATA	67393000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1720182
+SHUFFLE	COMPRESS_BYTE_COUNT	532158
+SHUFFLE	COPY_MAP_DATA	28056000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	829739
+SHUFFLE	COMPRESS_BYTE_COUNT	233924
+SHUFFLE	COPY_MAP_DATA	64274000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1474082
+SHUFFLE	COMPRESS_BYTE_COUNT	439269
+SHUFFLE	COPY_MAP_DATA	31354000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1444324
+SHUFFLE	COMPRESS_BYTE_COUNT	427814
+SHUFFLE	COPY_MAP_DATA	296698000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1735917
+SHUFFLE	COMPRESS_BYTE_COUNT	464575
+SHUFFLE	COPY_MAP_DATA	27223000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	993419
+SHUFFLE	COMPRESS_BYTE_COUNT	265989
+SHUFFLE	COPY_MAP_DATA	592312000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	902422
+SHUFFLE	COMPRESS_BYTE_COUNT	263237
+SHUFFLE	COPY_MAP_DATA	358782000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	828233
+SHUFFLE	COMPRESS_BYTE_COUNT	245322
+SHUFFLE	COPY_MAP_DATA	14861000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	794355
+SHUFFLE	COMPRESS_BYTE_COUNT	236527
+SHUFFLE	COPY_MAP_DATA	19246000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1637388
+SHUFFLE	COMPRESS_BYTE_COUNT	464323
+SHUFFLE	COPY_MAP_DATA	742513000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1523257
+SHUFFLE	COMPRESS_BYTE_COUNT	454387
+SHUFFLE	COPY_MAP_DATA	33515000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	987685
+SHUFFLE	COMPRESS_BYTE_COUNT	288545
+SHUFFLE	COPY_MAP_DATA	17772000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	854049
+SHUFFLE	COMPRESS_BYTE_COUNT	243548
+SHUFFLE	COPY_MAP_DATA	136722000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1413887
+SHUFFLE	COMPRESS_BYTE_COUNT	417631
+SHUFFLE	COPY_MAP_DATA	24689000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1815627
+SHUFFLE	COMPRESS_BYTE_COUNT	489178
+SHUFFLE	COPY_MAP_DATA	127919000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1546368
+SHUFFLE	COMPRESS_BYTE_COUNT	462184
+SHUFFLE	COPY_MAP_DATA	213345000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1514070
+SHUFFLE	COMPRESS_BYTE_COUNT	427306
+SHUFFLE	COPY_MAP_DATA	261234000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1617422
+SHUFFLE	COMPRESS_BYTE_COUNT	483628
+SHUFFLE	COPY_MAP_DATA	200092000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1577411
+SHUFFLE	COMPRESS_BYTE_COUNT	445603
+SHUFFLE	COPY_MAP_DATA	39420000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	949951
+SHUFFLE	COMPRESS_BYTE_COUNT	282427
+SHUFFLE	COPY_MAP_DATA	50729000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1866568
+SHUFFLE	COMPRESS_BYTE_COUNT	536262
+SHUFFLE	COPY_MAP_DATA	192800000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1456676
+SHUFFLE	COMPRESS_BYTE_COUNT	440998
+SHUFFLE	COPY_MAP_DATA	101885000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1019293
+SHUFFLE	COMPRESS_BYTE_COUNT	289132
+SHUFFLE	COPY_MAP_DATA	63859000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1736039
+SHUFFLE	COMPRESS_BYTE_COUNT	510534
+SHUFFLE	COPY_MAP_DATA	27442000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1886245
+SHUFFLE	COMPRESS_BYTE_COUNT	498812
+SHUFFLE	COPY_MAP_DATA	29406000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	925480
+SHUFFLE	COMPRESS_BYTE_COUNT	273714
+SHUFFLE	COPY_MAP_DATA	16596000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1035812
+SHUFFLE	COMPRESS_BYTE_COUNT	289986
+SHUFFLE	COPY_MAP_DATA	17817000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1567734
+SHUFFLE	COMPRESS_BYTE_COUNT	488340
+SHUFFLE	COPY_MAP_DATA	219702000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1719182
+SHUFFLE	COMPRESS_BYTE_COUNT	477819
+SHUFFLE	COPY_MAP_DATA	26390000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	949912
+SHUFFLE	COMPRESS_BYTE_COUNT	282845
+SHUFFLE	COPY_MAP_DATA	66176000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1127392
+SHUFFLE	COMPRESS_BYTE_COUNT	291762
+SHUFFLE	COPY_MAP_DATA	478657000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	989578
+SHUFFLE	COMPRESS_BYTE_COUNT	290330
+SHUFFLE	COPY_MAP_DATA	103519000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1795765
+SHUFFLE	COMPRESS_BYTE_COUNT	528481
+SHUFFLE	COPY_MAP_DATA	48747000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1549671
+SHUFFLE	COMPRESS_BYTE_COUNT	457654
+SHUFFLE	COPY_MAP_DATA	539261000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1698556
+SHUFFLE	COMPRESS_BYTE_COUNT	487307
+SHUFFLE	COPY_MAP_DATA	87752000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	967703
+SHUFFLE	COMPRESS_BYTE_COUNT	286599
+SHUFFLE	COPY_MAP_DATA	16638000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	887850
+SHUFFLE	COMPRESS_BYTE_COUNT	280516
+SHUFFLE	COPY_MAP_DATA	1538475000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1010916
+SHUFFLE	COMPRESS_BYTE_COUNT	298168
+SHUFFLE	COPY_MAP_DATA	325377000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	946861
+SHUFFLE	COMPRESS_BYTE_COUNT	283883
+SHUFFLE	COPY_MAP_DATA	25879000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	979772
+SHUFFLE	COMPRESS_BYTE_COUNT	296517
+SHUFFLE	COPY_MAP_DATA	59846000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	875913
+SHUFFLE	COMPRESS_BYTE_COUNT	259233
+SHUFFLE	COPY_MAP_DATA	15623000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	960151
+SHUFFLE	COMPRESS_BYTE_COUNT	290907
+SHUFFLE	COPY_MAP_DATA	60777000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	958366
+SHUFFLE	COMPRESS_BYTE_COUNT	288786
+SHUFFLE	COPY_MAP_DATA	17315000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	973561
+SHUFFLE	COMPRESS_BYTE_COUNT	294170
+SHUFFLE	COPY_MAP_DATA	16770000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	959795
+SHUFFLE	COMPRESS_BYTE_COUNT	285103
+SHUFFLE	COPY_MAP_DATA	17754000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	985956
+SHUFFLE	COMPRESS_BYTE_COUNT	297331
+SHUFFLE	COPY_MAP_DATA	34452000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	947543
+SHUFFLE	COMPRESS_BYTE_COUNT	287034
+SHUFFLE	COPY_MAP_DATA	16843000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	997068
+SHUFFLE	COMPRESS_BYTE_COUNT	292019
+SHUFFLE	COPY_MAP_DATA	15935000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	963811
+SHUFFLE	COMPRESS_BYTE_COUNT	287186
+SHUFFLE	COPY_MAP_DATA	127475000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1056469
+SHUFFLE	COMPRESS_BYTE_COUNT	291756
+SHUFFLE	COPY_MAP_DATA	4599154000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	960963
+SHUFFLE	COMPRESS_BYTE_COUNT	290810
+SHUFFLE	COPY_MAP_DATA	43154000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	954904
+SHUFFLE	COMPRESS_BYTE_COUNT	285147
+SHUFFLE	COPY_MAP_DATA	479733000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	965680
+SHUFFLE	COMPRESS_BYTE_COUNT	284241
+SHUFFLE	COPY_MAP_DATA	288241000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1023236
+SHUFFLE	COMPRESS_BYTE_COUNT	310969
+SHUFFLE	COPY_MAP_DATA	20122000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	945801
+SHUFFLE	COMPRESS_BYTE_COUNT	291624
+SHUFFLE	COPY_MAP_DATA	129784000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	968763
+SHUFFLE	COMPRESS_BYTE_COUNT	297126
+SHUFFLE	COPY_MAP_DATA	675930000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	968160
+SHUFFLE	COMPRESS_BYTE_COUNT	294524
+SHUFFLE	COPY_MAP_DATA	293481000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	961305
+SHUFFLE	COMPRESS_BYTE_COUNT	293317
+SHUFFLE	COPY_MAP_DATA	16004000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	932861
+SHUFFLE	COMPRESS_BYTE_COUNT	275776
+SHUFFLE	COPY_MAP_DATA	17466000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	914710
+SHUFFLE	COMPRESS_BYTE_COUNT	283837
+SHUFFLE	COPY_MAP_DATA	17219000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	947710
+SHUFFLE	COMPRESS_BYTE_COUNT	291490
+SHUFFLE	COPY_MAP_DATA	38563000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1072518
+SHUFFLE	COMPRESS_BYTE_COUNT	301999
+SHUFFLE	COPY_MAP_DATA	169693000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	951460
+SHUFFLE	COMPRESS_BYTE_COUNT	287732
+SHUFFLE	COPY_MAP_DATA	113435000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	953867
+SHUFFLE	COMPRESS_BYTE_COUNT	291026
+SHUFFLE	COPY_MAP_DATA	37504000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	959901
+SHUFFLE	COMPRESS_BYTE_COUNT	297108
+SHUFFLE	COPY_MAP_DATA	53899000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1058734
+SHUFFLE	COMPRESS_BYTE_COUNT	291418
+SHUFFLE	COPY_MAP_DATA	21271000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	956172
+SHUFFLE	COMPRESS_BYTE_COUNT	299520
+SHUFFLE	COPY_MAP_DATA	31433000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	959885
+SHUFFLE	COMPRESS_BYTE_COUNT	287821
+SHUFFLE	COPY_MAP_DATA	104694000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	947261
+SHUFFLE	COMPRESS_BYTE_COUNT	289109
+SHUFFLE	COPY_MAP_DATA	19207000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	891601
+SHUFFLE	COMPRESS_BYTE_COUNT	282448
+SHUFFLE	COPY_MAP_DATA	33764000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	968626
+SHUFFLE	COMPRESS_BYTE_COUNT	268228
+SHUFFLE	COPY_MAP_DATA	15680000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	890160
+SHUFFLE	COMPRESS_BYTE_COUNT	281963
+SHUFFLE	COPY_MAP_DATA	683826000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	983661
+SHUFFLE	COMPRESS_BYTE_COUNT	278687
+SHUFFLE	COPY_MAP_DATA	42174000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	950722
+SHUFFLE	COMPRESS_BYTE_COUNT	296285
+SHUFFLE	COPY_MAP_DATA	383602000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	938002
+SHUFFLE	COMPRESS_BYTE_COUNT	285907
+SHUFFLE	COPY_MAP_DATA	38244000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	926001
+SHUFFLE	COMPRESS_BYTE_COUNT	288077
+SHUFFLE	COPY_MAP_DATA	17122000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	927053
+SHUFFLE	COMPRESS_BYTE_COUNT	291779
+SHUFFLE	COPY_MAP_DATA	113226000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	987914
+SHUFFLE	COMPRESS_BYTE_COUNT	289305
+SHUFFLE	COPY_MAP_DATA	54388000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	918303
+SHUFFLE	COMPRESS_BYTE_COUNT	273824
+SHUFFLE	COPY_MAP_DATA	16127000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	921986
+SHUFFLE	COMPRESS_BYTE_COUNT	289695
+SHUFFLE	COPY_MAP_DATA	17576000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	982614
+SHUFFLE	COMPRESS_BYTE_COUNT	294976
+SHUFFLE	COPY_MAP_DATA	71830000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	965377
+SHUFFLE	COMPRESS_BYTE_COUNT	290430
+SHUFFLE	COPY_MAP_DATA	37201000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	914559
+SHUFFLE	COMPRESS_BYTE_COUNT	280113
+SHUFFLE	COPY_MAP_DATA	78076000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	918959
+SHUFFLE	COMPRESS_BYTE_COUNT	282741
+SHUFFLE	COPY_MAP_DATA	259190000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	951951
+SHUFFLE	COMPRESS_BYTE_COUNT	293318
+SHUFFLE	COPY_MAP_DATA	64217000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	892681
+SHUFFLE	COMPRESS_BYTE_COUNT	281829
+SHUFFLE	COPY_MAP_DATA	16402000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	868995
+SHUFFLE	COMPRESS_BYTE_COUNT	272838
+SHUFFLE	COPY_MAP_DATA	416620000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	951826
+SHUFFLE	COMPRESS_BYTE_COUNT	290766
+SHUFFLE	COPY_MAP_DATA	36256000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	943700
+SHUFFLE	COMPRESS_BYTE_COUNT	294216
+SHUFFLE	COPY_MAP_DATA	15835000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	907585
+SHUFFLE	COMPRESS_BYTE_COUNT	282268
+SHUFFLE	COPY_MAP_DATA	87390000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	967534
+SHUFFLE	COMPRESS_BYTE_COUNT	292956
+SHUFFLE	COPY_MAP_DATA	18387000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	951455
+SHUFFLE	COMPRESS_BYTE_COUNT	296011
+SHUFFLE	COPY_MAP_DATA	75948000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	918851
+SHUFFLE	COMPRESS_BYTE_COUNT	283954
+SHUFFLE	COPY_MAP_DATA	119009000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	877196
+SHUFFLE	COMPRESS_BYTE_COUNT	277641
+SHUFFLE	COPY_MAP_DATA	66490000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	907980
+SHUFFLE	COMPRESS_BYTE_COUNT	290003
+SHUFFLE	COPY_MAP_DATA	30234000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	961413
+SHUFFLE	COMPRESS_BYTE_COUNT	291254
+SHUFFLE	COPY_MAP_DATA	176540000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	891236
+SHUFFLE	COMPRESS_BYTE_COUNT	285656
+SHUFFLE	COPY_MAP_DATA	99175000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	922214
+SHUFFLE	COMPRESS_BYTE_COUNT	289130
+SHUFFLE	COPY_MAP_DATA	106841000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	882503
+SHUFFLE	COMPRESS_BYTE_COUNT	277828
+SHUFFLE	COPY_MAP_DATA	22121000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	872201
+SHUFFLE	COMPRESS_BYTE_COUNT	275674
+SHUFFLE	COPY_MAP_DATA	24562000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	874205
+SHUFFLE	COMPRESS_BYTE_COUNT	273392
+SHUFFLE	COPY_MAP_DATA	16107000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	854849
+SHUFFLE	COMPRESS_BYTE_COUNT	268763
+SHUFFLE	COPY_MAP_DATA	64580000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	865593
+SHUFFLE	COMPRESS_BYTE_COUNT	270470
+SHUFFLE	COPY_MAP_DATA	16710000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	915381
+SHUFFLE	COMPRESS_BYTE_COUNT	290314
+SHUFFLE	COPY_MAP_DATA	18614000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	888800
+SHUFFLE	COMPRESS_BYTE_COUNT	284459
+SHUFFLE	COPY_MAP_DATA	18871000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	854125
+SHUFFLE	COMPRESS_BYTE_COUNT	276349
+SHUFFLE	COPY_MAP_DATA	21977000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	945685
+SHUFFLE	COMPRESS_BYTE_COUNT	293638
+SHUFFLE	COPY_MAP_DATA	16712000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	874560
+SHUFFLE	COMPRESS_BYTE_COUNT	273670
+SHUFFLE	COPY_MAP_DATA	15310000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	885736
+SHUFFLE	COMPRESS_BYTE_COUNT	283515
+SHUFFLE	COPY_MAP_DATA	124945000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	903043
+SHUFFLE	COMPRESS_BYTE_COUNT	286748
+SHUFFLE	COPY_MAP_DATA	91609000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	875479
+SHUFFLE	COMPRESS_BYTE_COUNT	273715
+SHUFFLE	COPY_MAP_DATA	174685000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	885383
+SHUFFLE	COMPRESS_BYTE_COUNT	279396
+SHUFFLE	COPY_MAP_DATA	16442000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	861231
+SHUFFLE	COMPRESS_BYTE_COUNT	265930
+SHUFFLE	COPY_MAP_DATA	26377000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	821022
+SHUFFLE	COMPRESS_BYTE_COUNT	263639
+SHUFFLE	COPY_MAP_DATA	144570000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	869780
+SHUFFLE	COMPRESS_BYTE_COUNT	275887
+SHUFFLE	COPY_MAP_DATA	117288000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	836521
+SHUFFLE	COMPRESS_BYTE_COUNT	268356
+SHUFFLE	COPY_MAP_DATA	35605000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	837232
+SHUFFLE	COMPRESS_BYTE_COUNT	249715
+SHUFFLE	COPY_MAP_DATA	367776000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	859811
+SHUFFLE	COMPRESS_BYTE_COUNT	274405
+SHUFFLE	COPY_MAP_DATA	36693000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	846182
+SHUFFLE	COMPRESS_BYTE_COUNT	254044
+SHUFFLE	COPY_MAP_DATA	15854000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	888666
+SHUFFLE	COMPRESS_BYTE_COUNT	274199
+SHUFFLE	COPY_MAP_DATA	330392000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	943535
+SHUFFLE	COMPRESS_BYTE_COUNT	287545
+SHUFFLE	COPY_MAP_DATA	58877000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	902404
+SHUFFLE	COMPRESS_BYTE_COUNT	285272
+SHUFFLE	COPY_MAP_DATA	35486000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	836400
+SHUFFLE	COMPRESS_BYTE_COUNT	266245
+SHUFFLE	COPY_MAP_DATA	51822000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	836425
+SHUFFLE	COMPRESS_BYTE_COUNT	261628
+SHUFFLE	COPY_MAP_DATA	140373000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	866788
+SHUFFLE	COMPRESS_BYTE_COUNT	257221
+SHUFFLE	COPY_MAP_DATA	46989000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	929061
+SHUFFLE	COMPRESS_BYTE_COUNT	283703
+SHUFFLE	COPY_MAP_DATA	17628000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	828844
+SHUFFLE	COMPRESS_BYTE_COUNT	267667
+SHUFFLE	COPY_MAP_DATA	20051000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	799618
+SHUFFLE	COMPRESS_BYTE_COUNT	247304
+SHUFFLE	COPY_MAP_DATA	14787000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	840665
+SHUFFLE	COMPRESS_BYTE_COUNT	272310
+SHUFFLE	COPY_MAP_DATA	15366000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	762782
+SHUFFLE	COMPRESS_BYTE_COUNT	237605
+SHUFFLE	COPY_MAP_DATA	14949000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1012112
+SHUFFLE	COMPRESS_BYTE_COUNT	283898
+SHUFFLE	COPY_MAP_DATA	198496000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	780909
+SHUFFLE	COMPRESS_BYTE_COUNT	240971
+SHUFFLE	COPY_MAP_DATA	18097000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	813101
+SHUFFLE	COMPRESS_BYTE_COUNT	250581
+SHUFFLE	COPY_MAP_DATA	16110000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	977292
+SHUFFLE	COMPRESS_BYTE_COUNT	286919
+SHUFFLE	COPY_MAP_DATA	18223000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	825272
+SHUFFLE	COMPRESS_BYTE_COUNT	249621
+SHUFFLE	COPY_MAP_DATA	82596000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	817311
+SHUFFLE	COMPRESS_BYTE_COUNT	250277
+SHUFFLE	COPY_MAP_DATA	14071000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	827411
+SHUFFLE	COMPRESS_BYTE_COUNT	266037
+SHUFFLE	COPY_MAP_DATA	13839000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	861386
+SHUFFLE	COMPRESS_BYTE_COUNT	269133
+SHUFFLE	COPY_MAP_DATA	18897000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	819744
+SHUFFLE	COMPRESS_BYTE_COUNT	256273
+SHUFFLE	COPY_MAP_DATA	73324000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	867068
+SHUFFLE	COMPRESS_BYTE_COUNT	259252
+SHUFFLE	COPY_MAP_DATA	76529000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	847686
+SHUFFLE	COMPRESS_BYTE_COUNT	256568
+SHUFFLE	COPY_MAP_DATA	14899000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	818376
+SHUFFLE	COMPRESS_BYTE_COUNT	244336
+SHUFFLE	COPY_MAP_DATA	15353000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	764012
+SHUFFLE	COMPRESS_BYTE_COUNT	240865
+SHUFFLE	COPY_MAP_DATA	34922000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	678598
+SHUFFLE	COMPRESS_BYTE_COUNT	192383
+SHUFFLE	COPY_MAP_DATA	106241000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	862905
+SHUFFLE	COMPRESS_BYTE_COUNT	259361
+SHUFFLE	COPY_MAP_DATA	178188000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	756532
+SHUFFLE	COMPRESS_BYTE_COUNT	235956
+SHUFFLE	COPY_MAP_DATA	74042000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	801870
+SHUFFLE	COMPRESS_BYTE_COUNT	248005
+SHUFFLE	COPY_MAP_DATA	408626000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1009710
+SHUFFLE	COMPRESS_BYTE_COUNT	291577
+SHUFFLE	COPY_MAP_DATA	18285000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	754153
+SHUFFLE	COMPRESS_BYTE_COUNT	232158
+SHUFFLE	COPY_MAP_DATA	14827000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	769982
+SHUFFLE	COMPRESS_BYTE_COUNT	242289
+SHUFFLE	COPY_MAP_DATA	113230000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	814930
+SHUFFLE	COMPRESS_BYTE_COUNT	250312
+SHUFFLE	COPY_MAP_DATA	54096000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	782054
+SHUFFLE	COMPRESS_BYTE_COUNT	236922
+SHUFFLE	COPY_MAP_DATA	14426000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	732824
+SHUFFLE	COMPRESS_BYTE_COUNT	232826
+SHUFFLE	COPY_MAP_DATA	49052000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	829157
+SHUFFLE	COMPRESS_BYTE_COUNT	245162
+SHUFFLE	COPY_MAP_DATA	14433000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	810479
+SHUFFLE	COMPRESS_BYTE_COUNT	246829
+SHUFFLE	COPY_MAP_DATA	31984000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	820805
+SHUFFLE	COMPRESS_BYTE_COUNT	244986
+SHUFFLE	COPY_MAP_DATA	14451000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	816590
+SHUFFLE	COMPRESS_BYTE_COUNT	251108
+SHUFFLE	COPY_MAP_DATA	16963000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	750057
+SHUFFLE	COMPRESS_BYTE_COUNT	238575
+SHUFFLE	COPY_MAP_DATA	14894000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	738378
+SHUFFLE	COMPRESS_BYTE_COUNT	229569
+SHUFFLE	COPY_MAP_DATA	13671000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	758229
+SHUFFLE	COMPRESS_BYTE_COUNT	232662
+SHUFFLE	COPY_MAP_DATA	14667000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	751200
+SHUFFLE	COMPRESS_BYTE_COUNT	231782
+SHUFFLE	COPY_MAP_DATA	13850000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	782576
+SHUFFLE	COMPRESS_BYTE_COUNT	239065
+SHUFFLE	COPY_MAP_DATA	869310000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	936282
+SHUFFLE	COMPRESS_BYTE_COUNT	275150
+SHUFFLE	COPY_MAP_DATA	17143000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	795829
+SHUFFLE	COMPRESS_BYTE_COUNT	252710
+SHUFFLE	COPY_MAP_DATA	14133000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	787142
+SHUFFLE	COMPRESS_BYTE_COUNT	226970
+SHUFFLE	COPY_MAP_DATA	735302000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	824279
+SHUFFLE	COMPRESS_BYTE_COUNT	249365
+SHUFFLE	COPY_MAP_DATA	95363000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	824038
+SHUFFLE	COMPRESS_BYTE_COUNT	255533
+SHUFFLE	COPY_MAP_DATA	46066000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1118496
+SHUFFLE	COMPRESS_BYTE_COUNT	355882
+SHUFFLE	COPY_MAP_DATA	298490000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	819459
+SHUFFLE	COMPRESS_BYTE_COUNT	239287
+SHUFFLE	COPY_MAP_DATA	156380000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	738075
+SHUFFLE	COMPRESS_BYTE_COUNT	229873
+SHUFFLE	COPY_MAP_DATA	14970000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	754388
+SHUFFLE	COMPRESS_BYTE_COUNT	232680
+SHUFFLE	COPY_MAP_DATA	14319000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	743582
+SHUFFLE	COMPRESS_BYTE_COUNT	233474
+SHUFFLE	COPY_MAP_DATA	13995000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	712229
+SHUFFLE	COMPRESS_BYTE_COUNT	219948
+SHUFFLE	COPY_MAP_DATA	1849648000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	841669
+SHUFFLE	COMPRESS_BYTE_COUNT	253742
+SHUFFLE	COPY_MAP_DATA	14936000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	771876
+SHUFFLE	COMPRESS_BYTE_COUNT	240552
+SHUFFLE	COPY_MAP_DATA	75921000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	876807
+SHUFFLE	COMPRESS_BYTE_COUNT	260350
+SHUFFLE	COPY_MAP_DATA	107301000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	870392
+SHUFFLE	COMPRESS_BYTE_COUNT	266251
+SHUFFLE	COPY_MAP_DATA	95343000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	918896
+SHUFFLE	COMPRESS_BYTE_COUNT	277063
+SHUFFLE	COPY_MAP_DATA	51586000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	846390
+SHUFFLE	COMPRESS_BYTE_COUNT	247806
+SHUFFLE	COPY_MAP_DATA	15743000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	744879
+SHUFFLE	COMPRESS_BYTE_COUNT	229587
+SHUFFLE	COPY_MAP_DATA	289175000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	778629
+SHUFFLE	COMPRESS_BYTE_COUNT	226814
+SHUFFLE	COPY_MAP_DATA	127404000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	750237
+SHUFFLE	COMPRESS_BYTE_COUNT	236871
+SHUFFLE	COPY_MAP_DATA	175921000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	759713
+SHUFFLE	COMPRESS_BYTE_COUNT	229494
+SHUFFLE	COPY_MAP_DATA	15507000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	778252
+SHUFFLE	COMPRESS_BYTE_COUNT	234880
+SHUFFLE	COPY_MAP_DATA	53029000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	772170
+SHUFFLE	COMPRESS_BYTE_COUNT	236995
+SHUFFLE	COPY_MAP_DATA	33339000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	800170
+SHUFFLE	COMPRESS_BYTE_COUNT	238432
+SHUFFLE	COPY_MAP_DATA	144373000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	744717
+SHUFFLE	COMPRESS_BYTE_COUNT	233220
+SHUFFLE	COPY_MAP_DATA	28636000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	705016
+SHUFFLE	COMPRESS_BYTE_COUNT	216510
+SHUFFLE	COPY_MAP_DATA	186285000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	745769
+SHUFFLE	COMPRESS_BYTE_COUNT	229319
+SHUFFLE	COPY_MAP_DATA	15914000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	732097
+SHUFFLE	COMPRESS_BYTE_COUNT	223406
+SHUFFLE	COPY_MAP_DATA	114103000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	769056
+SHUFFLE	COMPRESS_BYTE_COUNT	230518
+SHUFFLE	COPY_MAP_DATA	35343000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1016507
+SHUFFLE	COMPRESS_BYTE_COUNT	330955
+SHUFFLE	COPY_MAP_DATA	720632000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	807041
+SHUFFLE	COMPRESS_BYTE_COUNT	243273
+SHUFFLE	COPY_MAP_DATA	35680000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	775390
+SHUFFLE	COMPRESS_BYTE_COUNT	234809
+SHUFFLE	COPY_MAP_DATA	23702000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	751808
+SHUFFLE	COMPRESS_BYTE_COUNT	229325
+SHUFFLE	COPY_MAP_DATA	13685000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	817202
+SHUFFLE	COMPRESS_BYTE_COUNT	255190
+SHUFFLE	COPY_MAP_DATA	14984000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	783451
+SHUFFLE	COMPRESS_BYTE_COUNT	237113
+SHUFFLE	COPY_MAP_DATA	14380000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	812203
+SHUFFLE	COMPRESS_BYTE_COUNT	249903
+SHUFFLE	COPY_MAP_DATA	70466000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	800644
+SHUFFLE	COMPRESS_BYTE_COUNT	226516
+SHUFFLE	COPY_MAP_DATA	13744000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	783843
+SHUFFLE	COMPRESS_BYTE_COUNT	242929
+SHUFFLE	COPY_MAP_DATA	62487000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	855286
+SHUFFLE	COMPRESS_BYTE_COUNT	256703
+SHUFFLE	COPY_MAP_DATA	15776000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	892819
+SHUFFLE	COMPRESS_BYTE_COUNT	245492
+SHUFFLE	COPY_MAP_DATA	65942000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	852057
+SHUFFLE	COMPRESS_BYTE_COUNT	255603
+SHUFFLE	COPY_MAP_DATA	114623000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	836446
+SHUFFLE	COMPRESS_BYTE_COUNT	236409
+SHUFFLE	COPY_MAP_DATA	13599000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	740232
+SHUFFLE	COMPRESS_BYTE_COUNT	228732
+SHUFFLE	COPY_MAP_DATA	258293000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	802494
+SHUFFLE	COMPRESS_BYTE_COUNT	249236
+SHUFFLE	COPY_MAP_DATA	118733000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	877815
+SHUFFLE	COMPRESS_BYTE_COUNT	256571
+SHUFFLE	COPY_MAP_DATA	52929000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	839980
+SHUFFLE	COMPRESS_BYTE_COUNT	241178
+SHUFFLE	COPY_MAP_DATA	279744000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	922810
+SHUFFLE	COMPRESS_BYTE_COUNT	262322
+SHUFFLE	COPY_MAP_DATA	562298000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	877930
+SHUFFLE	COMPRESS_BYTE_COUNT	265328
+SHUFFLE	COPY_MAP_DATA	16062000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	862544
+SHUFFLE	COMPRESS_BYTE_COUNT	247256
+SHUFFLE	COPY_MAP_DATA	191183000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	803973
+SHUFFLE	COMPRESS_BYTE_COUNT	233897
+SHUFFLE	COPY_MAP_DATA	208270000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	817145
+SHUFFLE	COMPRESS_BYTE_COUNT	252190
+SHUFFLE	COPY_MAP_DATA	33832000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	853013
+SHUFFLE	COMPRESS_BYTE_COUNT	248636
+SHUFFLE	COPY_MAP_DATA	34191000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	952637
+SHUFFLE	COMPRESS_BYTE_COUNT	304370
+SHUFFLE	COPY_MAP_DATA	22895000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	741934
+SHUFFLE	COMPRESS_BYTE_COUNT	229943
+SHUFFLE	COPY_MAP_DATA	16478000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	741422
+SHUFFLE	COMPRESS_BYTE_COUNT	228003
+SHUFFLE	COPY_MAP_DATA	12725000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	717552
+SHUFFLE	COMPRESS_BYTE_COUNT	218650
+SHUFFLE	COPY_MAP_DATA	15346000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	810073
+SHUFFLE	COMPRESS_BYTE_COUNT	228521
+SHUFFLE	COPY_MAP_DATA	15005000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	677626
+SHUFFLE	COMPRESS_BYTE_COUNT	205900
+SHUFFLE	COPY_MAP_DATA	68593000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	603708
+SHUFFLE	COMPRESS_BYTE_COUNT	160665
+SHUFFLE	COPY_MAP_DATA	10993000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	804948
+SHUFFLE	COMPRESS_BYTE_COUNT	250460
+SHUFFLE	COPY_MAP_DATA	34986000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	739808
+SHUFFLE	COMPRESS_BYTE_COUNT	233086
+SHUFFLE	COPY_MAP_DATA	43034000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	809831
+SHUFFLE	COMPRESS_BYTE_COUNT	244151
+SHUFFLE	COPY_MAP_DATA	14161000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	940481
+SHUFFLE	COMPRESS_BYTE_COUNT	286379
+SHUFFLE	COPY_MAP_DATA	36884000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	879204
+SHUFFLE	COMPRESS_BYTE_COUNT	251611
+SHUFFLE	COPY_MAP_DATA	33290000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1076174
+SHUFFLE	COMPRESS_BYTE_COUNT	285388
+SHUFFLE	COPY_MAP_DATA	37931000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	740232
+SHUFFLE	COMPRESS_BYTE_COUNT	228732
+SHUFFLE	COPY_MAP_DATA	14489000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	784377
+SHUFFLE	COMPRESS_BYTE_COUNT	233782
+SHUFFLE	COPY_MAP_DATA	13332000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	906762
+SHUFFLE	COMPRESS_BYTE_COUNT	233254
+SHUFFLE	COPY_MAP_DATA	271745000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	777558
+SHUFFLE	COMPRESS_BYTE_COUNT	226648
+SHUFFLE	COPY_MAP_DATA	13005000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	714744
+SHUFFLE	COMPRESS_BYTE_COUNT	224157
+SHUFFLE	COPY_MAP_DATA	12567000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	448796
+SHUFFLE	COMPRESS_BYTE_COUNT	107612
+SHUFFLE	COPY_MAP_DATA	11672000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	820628
+SHUFFLE	COMPRESS_BYTE_COUNT	237714
+SHUFFLE	COPY_MAP_DATA	13855000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	772115
+SHUFFLE	COMPRESS_BYTE_COUNT	244010
+SHUFFLE	COPY_MAP_DATA	14488000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	609916
+SHUFFLE	COMPRESS_BYTE_COUNT	196725
+SHUFFLE	COPY_MAP_DATA	10794000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	956172
+SHUFFLE	COMPRESS_BYTE_COUNT	307271
+SHUFFLE	COPY_MAP_DATA	18008000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	996178
+SHUFFLE	COMPRESS_BYTE_COUNT	283504
+SHUFFLE	COPY_MAP_DATA	16138000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	798784
+SHUFFLE	COMPRESS_BYTE_COUNT	232807
+SHUFFLE	COPY_MAP_DATA	41781000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	747992
+SHUFFLE	COMPRESS_BYTE_COUNT	243877
+SHUFFLE	COPY_MAP_DATA	15926000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	231573555000
+MERGE	READ_WRITE	230570640000
+MERGE	READ_WRITE_COUNT	2
+MERGE	COMBINE	0
+MERGE	WRITE	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	36172623000
+SORT	READ_WRITE	35908104000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	181916232
+REDUCE	SETUP	328000
+REDUCE	SETUP_MEM	181916232
+REDUCE	CLEANUP	60000
+REDUCE	CLEANUP_MEM	134591256
+REDUCE	TOTAL_RUN	153433199637
+REDUCE	READ	16992586343
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	127705340294
+REDUCE	WRITE	61077306000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	69190447
+REDUCE	VALUE_BYTE_COUNT	63042051
+REDUCE	REDUCE_MEM	134591256
+REDUCE	WRITE	18679000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	824474819789
@@ -0,0 +1,1333 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1826441
+SHUFFLE	COMPRESS_BYTE_COUNT	549532
+SHUFFLE	COPY_MAP_DATA	2025946000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1655966
+SHUFFLE	COMPRESS_BYTE_COUNT	467166
+SHUFFLE	COPY_MAP_DATA	79558000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1948702
+SHUFFLE	COMPRESS_BYTE_COUNT	560670
+SHUFFLE	COPY_MAP_DATA	70782000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2051701
+SHUFFLE	COMPRESS_BYTE_COUNT	576261
+SHUFFLE	COPY_MAP_DATA	134769000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1882488
+SHUFFLE	COMPRESS_BYTE_COUNT	561320
+SHUFFLE	COPY_MAP_DATA	78014000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1980539
+SHUFFLE	COMPRESS_BYTE_COUNT	567000
+SHUFFLE	COPY_MAP_DATA	34240000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1901132
+SHUFFLE	COMPRESS_BYTE_COUNT	529667
+SHUFFLE	COPY_MAP_DATA	124093000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1948365
+SHUFFLE	COMPRESS_BYTE_COUNT	575229
+SHUFFLE	COPY_MAP_DATA	336807000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1900855
+SHUFFLE	COMPRESS_BYTE_COUNT	556717
+SHUFFLE	COPY_MAP_DATA	33734000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1957896
+SHUFFLE	COMPRESS_BYTE_COUNT	553580
+SHUFFLE	COPY_MAP_DATA	47558000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2027360
+SHUFFLE	COMPRESS_BYTE_COUNT	583864
+SHUFFLE	COPY_MAP_DATA	84945000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1948216
+SHUFFLE	COMPRESS_BYTE_COUNT	561236
+SHUFFLE	COPY_MAP_DATA	33061000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1826044
+SHUFFLE	COMPRESS_BYTE_COUNT	473442
+SHUFFLE	COPY_MAP_DATA	64917000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1911937
+SHUFFLE	COMPRESS_BYTE_COUNT	569024
+SHUFFLE	COPY_MAP_DATA	45691000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1978395
+SHUFFLE	COMPRESS_BYTE_COUNT	571698
+SHUFFLE	COPY_MAP_DATA	79882000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1772309
+SHUFFLE	COMPRESS_BYTE_COUNT	485204
+SHUFFLE	COPY_MAP_DATA	80654000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1857248
+SHUFFLE	COMPRESS_BYTE_COUNT	557374
+SHUFFLE	COPY_MAP_DATA	43726000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2081608
+SHUFFLE	COMPRESS_BYTE_COUNT	565168
+SHUFFLE	COPY_MAP_DATA	31949000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1947139
+SHUFFLE	COMPRESS_BYTE_COUNT	569689
+SHUFFLE	COPY_MAP_DATA	31534000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2026084
+SHUFFLE	COMPRESS_BYTE_COUNT	574594
+SHUFFLE	COPY_MAP_DATA	39806000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2065699
+SHUFFLE	COMPRESS_BYTE_COUNT	556473
+SHUFFLE	COPY_MAP_DATA	50059000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1897802
+SHUFFLE	COMPRESS_BYTE_COUNT	570889
+SHUFFLE	COPY_MAP_DATA	91484000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1972323
+SHUFFLE	COMPRESS_BYTE_COUNT	547837
+SHUFFLE	COPY_MAP_DATA	52663000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1932433
+SHUFFLE	COMPRESS_BYTE_COUNT	555584
+SHUFFLE	COPY_MAP_DATA	188929000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1937638
+SHUFFLE	COMPRESS_BYTE_COUNT	570138
+SHUFFLE	COPY_MAP_DATA	28493000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2019593
+SHUFFLE	COMPRESS_BYTE_COUNT	544548
+SHUFFLE	COPY_MAP_DATA	109386000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1948773
+SHUFFLE	COMPRESS_BYTE_COUNT	575581
+SHUFFLE	COPY_MAP_DATA	465101000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2103961
+SHUFFLE	COMPRESS_BYTE_COUNT	577267
+SHUFFLE	COPY_MAP_DATA	1466669000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2000176
+SHUFFLE	COMPRESS_BYTE_COUNT	552944
+SHUFFLE	COPY_MAP_DATA	30881000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2032202
+SHUFFLE	COMPRESS_BYTE_COUNT	554123
+SHUFFLE	COPY_MAP_DATA	39772000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1843874
+SHUFFLE	COMPRESS_BYTE_COUNT	553532
+SHUFFLE	COPY_MAP_DATA	28691000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1779732
+SHUFFLE	COMPRESS_BYTE_COUNT	536328
+SHUFFLE	COPY_MAP_DATA	27201000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1725846
+SHUFFLE	COMPRESS_BYTE_COUNT	524606
+SHUFFLE	COPY_MAP_DATA	25935000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1847522
+SHUFFLE	COMPRESS_BYTE_COUNT	555926
+SHUFFLE	COPY_MAP_DATA	2260986000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1830791
+SHUFFLE	COMPRESS_BYTE_COUNT	550002
+SHUFFLE	COPY_MAP_DATA	58187000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1967504
+SHUFFLE	COMPRESS_BYTE_COUNT	569958
+SHUFFLE	COPY_MAP_DATA	35092000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1748970
+SHUFFLE	COMPRESS_BYTE_COUNT	535464
+SHUFFLE	COPY_MAP_DATA	28566000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1521366
+SHUFFLE	COMPRESS_BYTE_COUNT	452880
+SHUFFLE	COPY_MAP_DATA	684991000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1772519
+SHUFFLE	COMPRESS_BYTE_COUNT	536076
+SHUFFLE	COPY_MAP_DATA	30675000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1929811
+SHUFFLE	COMPRESS_BYTE_COUNT	564011
+SHUFFLE	COPY_MAP_DATA	162386000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1866624
+SHUFFLE	COMPRESS_BYTE_COUNT	546051
+SHUFFLE	COPY_MAP_DATA	31746000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1904197
+SHUFFLE	COMPRESS_BYTE_COUNT	567084
+SHUFFLE	COPY_MAP_DATA	2647427000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1616190
+SHUFFLE	COMPRESS_BYTE_COUNT	486936
+SHUFFLE	COPY_MAP_DATA	124338000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1722756
+SHUFFLE	COMPRESS_BYTE_COUNT	535236
+SHUFFLE	COPY_MAP_DATA	28643000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1611053
+SHUFFLE	COMPRESS_BYTE_COUNT	475016
+SHUFFLE	COPY_MAP_DATA	106332000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1882932
+SHUFFLE	COMPRESS_BYTE_COUNT	557278
+SHUFFLE	COPY_MAP_DATA	48413000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1804520
+SHUFFLE	COMPRESS_BYTE_COUNT	550578
+SHUFFLE	COPY_MAP_DATA	67184000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1770419
+SHUFFLE	COMPRESS_BYTE_COUNT	508727
+SHUFFLE	COPY_MAP_DATA	242418000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1873579
+SHUFFLE	COMPRESS_BYTE_COUNT	558791
+SHUFFLE	COPY_MAP_DATA	558744000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1803010
+SHUFFLE	COMPRESS_BYTE_COUNT	545014
+SHUFFLE	COPY_MAP_DATA	28613000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1942646
+SHUFFLE	COMPRESS_BYTE_COUNT	463687
+SHUFFLE	COPY_MAP_DATA	71868000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1630976
+SHUFFLE	COMPRESS_BYTE_COUNT	475264
+SHUFFLE	COPY_MAP_DATA	504581000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1807416
+SHUFFLE	COMPRESS_BYTE_COUNT	527713
+SHUFFLE	COPY_MAP_DATA	68874000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1864554
+SHUFFLE	COMPRESS_BYTE_COUNT	523036
+SHUFFLE	COPY_MAP_DATA	93392000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1779630
+SHUFFLE	COMPRESS_BYTE_COUNT	545120
+SHUFFLE	COPY_MAP_DATA	32257000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1852728
+SHUFFLE	COMPRESS_BYTE_COUNT	529042
+SHUFFLE	COPY_MAP_DATA	53266000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1883227
+SHUFFLE	COMPRESS_BYTE_COUNT	546041
+SHUFFLE	COPY_MAP_DATA	274915000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1813509
+SHUFFLE	COMPRESS_BYTE_COUNT	535756
+SHUFFLE	COPY_MAP_DATA	28420000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1849264
+SHUFFLE	COMPRESS_BYTE_COUNT	543389
+SHUFFLE	COPY_MAP_DATA	28823000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1748864
+SHUFFLE	COMPRESS_BYTE_COUNT	528632
+SHUFFLE	COPY_MAP_DATA	26692000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1604414
+SHUFFLE	COMPRESS_BYTE_COUNT	486417
+SHUFFLE	COPY_MAP_DATA	134946000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1703868
+SHUFFLE	COMPRESS_BYTE_COUNT	484948
+SHUFFLE	COPY_MAP_DATA	26610000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1602125
+SHUFFLE	COMPRESS_BYTE_COUNT	477452
+SHUFFLE	COPY_MAP_DATA	42452000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1657226
+SHUFFLE	COMPRESS_BYTE_COUNT	485864
+SHUFFLE	COPY_MAP_DATA	27001000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1830952
+SHUFFLE	COMPRESS_BYTE_COUNT	532105
+SHUFFLE	COPY_MAP_DATA	29486000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1637783
+SHUFFLE	COMPRESS_BYTE_COUNT	481652
+SHUFFLE	COPY_MAP_DATA	430779000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1522376
+SHUFFLE	COMPRESS_BYTE_COUNT	440986
+SHUFFLE	COPY_MAP_DATA	567176000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1599699
+SHUFFLE	COMPRESS_BYTE_COUNT	472322
+SHUFFLE	COPY_MAP_DATA	24687000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1527284
+SHUFFLE	COMPRESS_BYTE_COUNT	452381
+SHUFFLE	COPY_MAP_DATA	26599000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1657811
+SHUFFLE	COMPRESS_BYTE_COUNT	473643
+SHUFFLE	COPY_MAP_DATA	25807000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1433211
+SHUFFLE	COMPRESS_BYTE_COUNT	430285
+SHUFFLE	COPY_MAP_DATA	22709000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1565428
+SHUFFLE	COMPRESS_BYTE_COUNT	455698
+SHUFFLE	COPY_MAP_DATA	24825000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1675035
+SHUFFLE	COMPRESS_BYTE_COUNT	461553
+SHUFFLE	COPY_MAP_DATA	223263000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1640464
+SHUFFLE	COMPRESS_BYTE_COUNT	479127
+SHUFFLE	COPY_MAP_DATA	627490000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1857148
+SHUFFLE	COMPRESS_BYTE_COUNT	573284
+SHUFFLE	COPY_MAP_DATA	35727000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1721238
+SHUFFLE	COMPRESS_BYTE_COUNT	476539
+SHUFFLE	COPY_MAP_DATA	26681000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1624992
+SHUFFLE	COMPRESS_BYTE_COUNT	458934
+SHUFFLE	COPY_MAP_DATA	25956000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1575602
+SHUFFLE	COMPRESS_BYTE_COUNT	463986
+SHUFFLE	COPY_MAP_DATA	61890000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1623022
+SHUFFLE	COMPRESS_BYTE_COUNT	475633
+SHUFFLE	COPY_MAP_DATA	193849000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1829225
+SHUFFLE	COMPRESS_BYTE_COUNT	571332
+SHUFFLE	COPY_MAP_DATA	43015000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1820541
+SHUFFLE	COMPRESS_BYTE_COUNT	527569
+SHUFFLE	COPY_MAP_DATA	348690000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1554598
+SHUFFLE	COMPRESS_BYTE_COUNT	467709
+SHUFFLE	COPY_MAP_DATA	30809000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1641394
+SHUFFLE	COMPRESS_BYTE_COUNT	482705
+SHUFFLE	COPY_MAP_DATA	1553401000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1664092
+SHUFFLE	COMPRESS_BYTE_COUNT	479636
+SHUFFLE	COPY_MAP_DATA	320419000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1741948
+SHUFFLE	COMPRESS_BYTE_COUNT	524788
+SHUFFLE	COPY_MAP_DATA	430391000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1550483
+SHUFFLE	COMPRESS_BYTE_COUNT	466968
+SHUFFLE	COPY_MAP_DATA	2846080000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1840840
+SHUFFLE	COMPRESS_BYTE_COUNT	552387
+SHUFFLE	COPY_MAP_DATA	30061000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	835771
+SHUFFLE	COMPRESS_BYTE_COUNT	236927
+SHUFFLE	COPY_MAP_DATA	979871000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1434732
+SHUFFLE	COMPRESS_BYTE_COUNT	434389
+SHUFFLE	COPY_MAP_DATA	244336000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1482176
+SHUFFLE	COMPRESS_BYTE_COUNT	436295
+SHUFFLE	COPY_MAP_DATA	491231000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1502468
+SHUFFLE	COMPRESS_BYTE_COUNT	445283
+SHUFFLE	COPY_MAP_DATA	27489000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	990275
+SHUFFLE	COMPRESS_BYTE_COUNT	266873
+SHUFFLE	COPY_MAP_DATA	318743000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1002361
+SHUFFLE	COMPRESS_BYTE_COUNT	292522
+SHUFFLE	COPY_MAP_DATA	18542000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1654673
+SHUFFLE	COMPRESS_BYTE_COUNT	473026
+SHUFFLE	COPY_MAP_DATA	38898000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	913374
+SHUFFLE	COMPRESS_BYTE_COUNT	264273
+SHUFFLE	COPY_MAP_DATA	15525000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	858937
+SHUFFLE	COMPRESS_BYTE_COUNT	249939
+SHUFFLE	COPY_MAP_DATA	14238000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	796478
+SHUFFLE	COMPRESS_BYTE_COUNT	239984
+SHUFFLE	COPY_MAP_DATA	19653000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	859490
+SHUFFLE	COMPRESS_BYTE_COUNT	244471
+SHUFFLE	COPY_MAP_DATA	1189320000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1490260
+SHUFFLE	COMPRESS_BYTE_COUNT	451419
+SHUFFLE	COPY_MAP_DATA	179873000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1388312
+SHUFFLE	COMPRESS_BYTE_COUNT	417240
+SHUFFLE	COPY_MAP_DATA	23654000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1615702
+SHUFFLE	COMPRESS_BYTE_COUNT	470861
+SHUFFLE	COPY_MAP_DATA	24075000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1623980
+SHUFFLE	COMPRESS_BYTE_COUNT	482953
+SHUFFLE	COPY_MAP_DATA	25693000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1452594
+SHUFFLE	COMPRESS_BYTE_COUNT	422737
+SHUFFLE	COPY_MAP_DATA	334409000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1511155
+SHUFFLE	COMPRESS_BYTE_COUNT	447900
+SHUFFLE	COPY_MAP_DATA	126148000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1544799
+SHUFFLE	COMPRESS_BYTE_COUNT	445250
+SHUFFLE	COPY_MAP_DATA	119932000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1997537
+SHUFFLE	COMPRESS_BYTE_COUNT	557356
+SHUFFLE	COPY_MAP_DATA	161779000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1031978
+SHUFFLE	COMPRESS_BYTE_COUNT	294614
+SHUFFLE	COPY_MAP_DATA	1763034000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	967180
+SHUFFLE	COMPRESS_BYTE_COUNT	289045
+SHUFFLE	COPY_MAP_DATA	17235000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1463873
+SHUFFLE	COMPRESS_BYTE_COUNT	441917
+SHUFFLE	COPY_MAP_DATA	23609000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1803008
+SHUFFLE	COMPRESS_BYTE_COUNT	523992
+SHUFFLE	COPY_MAP_DATA	27885000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1061731
+SHUFFLE	COMPRESS_BYTE_COUNT	296586
+SHUFFLE	COPY_MAP_DATA	173108000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	957864
+SHUFFLE	COMPRESS_BYTE_COUNT	279378
+SHUFFLE	COPY_MAP_DATA	217548000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1558088
+SHUFFLE	COMPRESS_BYTE_COUNT	461161
+SHUFFLE	COPY_MAP_DATA	26331000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1907632
+SHUFFLE	COMPRESS_BYTE_COUNT	376783
+SHUFFLE	COPY_MAP_DATA	58704000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1612281
+SHUFFLE	COMPRESS_BYTE_COUNT	469765
+SHUFFLE	COPY_MAP_DATA	26508000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1593299
+SHUFFLE	COMPRESS_BYTE_COUNT	493016
+SHUFFLE	COPY_MAP_DATA	29117000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	969964
+SHUFFLE	COMPRESS_BYTE_COUNT	286956
+SHUFFLE	COPY_MAP_DATA	17472000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1578638
+SHUFFLE	COMPRESS_BYTE_COUNT	458590
+SHUFFLE	COPY_MAP_DATA	489935000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1795374
+SHUFFLE	COMPRESS_BYTE_COUNT	532367
+SHUFFLE	COPY_MAP_DATA	30531000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1014466
+SHUFFLE	COMPRESS_BYTE_COUNT	291651
+SHUFFLE	COPY_MAP_DATA	60693000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	996547
+SHUFFLE	COMPRESS_BYTE_COUNT	293386
+SHUFFLE	COPY_MAP_DATA	18455000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1660490
+SHUFFLE	COMPRESS_BYTE_COUNT	481520
+SHUFFLE	COPY_MAP_DATA	572978000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	937289
+SHUFFLE	COMPRESS_BYTE_COUNT	294113
+SHUFFLE	COPY_MAP_DATA	142751000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	998051
+SHUFFLE	COMPRESS_BYTE_COUNT	298029
+SHUFFLE	COPY_MAP_DATA	25449000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1017417
+SHUFFLE	COMPRESS_BYTE_COUNT	298695
+SHUFFLE	COPY_MAP_DATA	366724000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	985251
+SHUFFLE	COMPRESS_BYTE_COUNT	290214
+SHUFFLE	COPY_MAP_DATA	206876000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1012586
+SHUFFLE	COMPRESS_BYTE_COUNT	304021
+SHUFFLE	COPY_MAP_DATA	217818000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	988626
+SHUFFLE	COMPRESS_BYTE_COUNT	293898
+SHUFFLE	COPY_MAP_DATA	245179000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	933954
+SHUFFLE	COMPRESS_BYTE_COUNT	267120
+SHUFFLE	COPY_MAP_DATA	16629000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	991915
+SHUFFLE	COMPRESS_BYTE_COUNT	297890
+SHUFFLE	COPY_MAP_DATA	18723000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1000226
+SHUFFLE	COMPRESS_BYTE_COUNT	292534
+SHUFFLE	COPY_MAP_DATA	76416000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	974422
+SHUFFLE	COMPRESS_BYTE_COUNT	294831
+SHUFFLE	COPY_MAP_DATA	748528000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1053652
+SHUFFLE	COMPRESS_BYTE_COUNT	307061
+SHUFFLE	COPY_MAP_DATA	5399553000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	967341
+SHUFFLE	COMPRESS_BYTE_COUNT	287942
+SHUFFLE	COPY_MAP_DATA	95643000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	985712
+SHUFFLE	COMPRESS_BYTE_COUNT	293219
+SHUFFLE	COPY_MAP_DATA	144940000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	987582
+SHUFFLE	COMPRESS_BYTE_COUNT	297368
+SHUFFLE	COPY_MAP_DATA	47807000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1080838
+SHUFFLE	COMPRESS_BYTE_COUNT	297818
+SHUFFLE	COPY_MAP_DATA	896920000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1000772
+SHUFFLE	COMPRESS_BYTE_COUNT	293906
+SHUFFLE	COPY_MAP_DATA	279102000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	970291
+SHUFFLE	COMPRESS_BYTE_COUNT	294967
+SHUFFLE	COPY_MAP_DATA	217757000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	963568
+SHUFFLE	COMPRESS_BYTE_COUNT	288233
+SHUFFLE	COPY_MAP_DATA	17668000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1029539
+SHUFFLE	COMPRESS_BYTE_COUNT	309887
+SHUFFLE	COPY_MAP_DATA	86797000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	999243
+SHUFFLE	COMPRESS_BYTE_COUNT	304211
+SHUFFLE	COPY_MAP_DATA	18764000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	956870
+SHUFFLE	COMPRESS_BYTE_COUNT	294504
+SHUFFLE	COPY_MAP_DATA	17551000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	990815
+SHUFFLE	COMPRESS_BYTE_COUNT	302368
+SHUFFLE	COPY_MAP_DATA	70253000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	938397
+SHUFFLE	COMPRESS_BYTE_COUNT	290831
+SHUFFLE	COPY_MAP_DATA	74564000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1086546
+SHUFFLE	COMPRESS_BYTE_COUNT	307517
+SHUFFLE	COPY_MAP_DATA	20080000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1014776
+SHUFFLE	COMPRESS_BYTE_COUNT	307556
+SHUFFLE	COPY_MAP_DATA	39199000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	915008
+SHUFFLE	COMPRESS_BYTE_COUNT	274395
+SHUFFLE	COPY_MAP_DATA	159890000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	999937
+SHUFFLE	COMPRESS_BYTE_COUNT	305931
+SHUFFLE	COPY_MAP_DATA	100764000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	960618
+SHUFFLE	COMPRESS_BYTE_COUNT	290859
+SHUFFLE	COPY_MAP_DATA	132994000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	991497
+SHUFFLE	COMPRESS_BYTE_COUNT	306103
+SHUFFLE	COPY_MAP_DATA	159169000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	957753
+SHUFFLE	COMPRESS_BYTE_COUNT	293156
+SHUFFLE	COPY_MAP_DATA	214595000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	990465
+SHUFFLE	COMPRESS_BYTE_COUNT	292392
+SHUFFLE	COPY_MAP_DATA	116153000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	990557
+SHUFFLE	COMPRESS_BYTE_COUNT	292150
+SHUFFLE	COPY_MAP_DATA	61949000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	980663
+SHUFFLE	COMPRESS_BYTE_COUNT	296604
+SHUFFLE	COPY_MAP_DATA	16613000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	912673
+SHUFFLE	COMPRESS_BYTE_COUNT	291152
+SHUFFLE	COPY_MAP_DATA	17767000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	941689
+SHUFFLE	COMPRESS_BYTE_COUNT	297114
+SHUFFLE	COPY_MAP_DATA	17866000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	940519
+SHUFFLE	COMPRESS_BYTE_COUNT	291291
+SHUFFLE	COPY_MAP_DATA	17299000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	936663
+SHUFFLE	COMPRESS_BYTE_COUNT	292597
+SHUFFLE	COPY_MAP_DATA	180119000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1048049
+SHUFFLE	COMPRESS_BYTE_COUNT	278724
+SHUFFLE	COPY_MAP_DATA	17396000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1080450
+SHUFFLE	COMPRESS_BYTE_COUNT	291861
+SHUFFLE	COPY_MAP_DATA	56296000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	961842
+SHUFFLE	COMPRESS_BYTE_COUNT	299460
+SHUFFLE	COPY_MAP_DATA	111755000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	905111
+SHUFFLE	COMPRESS_BYTE_COUNT	283236
+SHUFFLE	COPY_MAP_DATA	15531000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	964642
+SHUFFLE	COMPRESS_BYTE_COUNT	288067
+SHUFFLE	COPY_MAP_DATA	17572000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	948838
+SHUFFLE	COMPRESS_BYTE_COUNT	297144
+SHUFFLE	COPY_MAP_DATA	16965000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	993084
+SHUFFLE	COMPRESS_BYTE_COUNT	300913
+SHUFFLE	COPY_MAP_DATA	311203000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	940019
+SHUFFLE	COMPRESS_BYTE_COUNT	292467
+SHUFFLE	COPY_MAP_DATA	16979000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	968041
+SHUFFLE	COMPRESS_BYTE_COUNT	287171
+SHUFFLE	COPY_MAP_DATA	235888000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	967793
+SHUFFLE	COMPRESS_BYTE_COUNT	293240
+SHUFFLE	COPY_MAP_DATA	18399000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	905290
+SHUFFLE	COMPRESS_BYTE_COUNT	283423
+SHUFFLE	COPY_MAP_DATA	17315000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	970250
+SHUFFLE	COMPRESS_BYTE_COUNT	295958
+SHUFFLE	COPY_MAP_DATA	49591000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	969195
+SHUFFLE	COMPRESS_BYTE_COUNT	296206
+SHUFFLE	COPY_MAP_DATA	18461000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	887335
+SHUFFLE	COMPRESS_BYTE_COUNT	277081
+SHUFFLE	COPY_MAP_DATA	15774000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	964180
+SHUFFLE	COMPRESS_BYTE_COUNT	298371
+SHUFFLE	COPY_MAP_DATA	16892000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	915266
+SHUFFLE	COMPRESS_BYTE_COUNT	286216
+SHUFFLE	COPY_MAP_DATA	15341000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	976850
+SHUFFLE	COMPRESS_BYTE_COUNT	298785
+SHUFFLE	COPY_MAP_DATA	23595000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	945827
+SHUFFLE	COMPRESS_BYTE_COUNT	290185
+SHUFFLE	COPY_MAP_DATA	23734000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	935962
+SHUFFLE	COMPRESS_BYTE_COUNT	295206
+SHUFFLE	COPY_MAP_DATA	67628000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	979857
+SHUFFLE	COMPRESS_BYTE_COUNT	301327
+SHUFFLE	COPY_MAP_DATA	18311000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	934258
+SHUFFLE	COMPRESS_BYTE_COUNT	295897
+SHUFFLE	COPY_MAP_DATA	17729000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	941984
+SHUFFLE	COMPRESS_BYTE_COUNT	293897
+SHUFFLE	COPY_MAP_DATA	170474000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	916542
+SHUFFLE	COMPRESS_BYTE_COUNT	279128
+SHUFFLE	COPY_MAP_DATA	15448000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	891515
+SHUFFLE	COMPRESS_BYTE_COUNT	280427
+SHUFFLE	COPY_MAP_DATA	16300000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	891849
+SHUFFLE	COMPRESS_BYTE_COUNT	280881
+SHUFFLE	COPY_MAP_DATA	83641000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	941141
+SHUFFLE	COMPRESS_BYTE_COUNT	290009
+SHUFFLE	COPY_MAP_DATA	77579000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	906416
+SHUFFLE	COMPRESS_BYTE_COUNT	283346
+SHUFFLE	COPY_MAP_DATA	24852000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	933062
+SHUFFLE	COMPRESS_BYTE_COUNT	289945
+SHUFFLE	COPY_MAP_DATA	43336000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	874623
+SHUFFLE	COMPRESS_BYTE_COUNT	274586
+SHUFFLE	COPY_MAP_DATA	16848000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	925485
+SHUFFLE	COMPRESS_BYTE_COUNT	278139
+SHUFFLE	COPY_MAP_DATA	787952000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	877143
+SHUFFLE	COMPRESS_BYTE_COUNT	279716
+SHUFFLE	COPY_MAP_DATA	19071000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	905907
+SHUFFLE	COMPRESS_BYTE_COUNT	286955
+SHUFFLE	COPY_MAP_DATA	29427000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	956541
+SHUFFLE	COMPRESS_BYTE_COUNT	296686
+SHUFFLE	COPY_MAP_DATA	17253000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	976518
+SHUFFLE	COMPRESS_BYTE_COUNT	294676
+SHUFFLE	COPY_MAP_DATA	116789000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	904703
+SHUFFLE	COMPRESS_BYTE_COUNT	289309
+SHUFFLE	COPY_MAP_DATA	172167000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	942234
+SHUFFLE	COMPRESS_BYTE_COUNT	295525
+SHUFFLE	COPY_MAP_DATA	25146000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	914353
+SHUFFLE	COMPRESS_BYTE_COUNT	281245
+SHUFFLE	COPY_MAP_DATA	299270000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	898309
+SHUFFLE	COMPRESS_BYTE_COUNT	277434
+SHUFFLE	COPY_MAP_DATA	37777000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	892528
+SHUFFLE	COMPRESS_BYTE_COUNT	285337
+SHUFFLE	COPY_MAP_DATA	142860000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	877127
+SHUFFLE	COMPRESS_BYTE_COUNT	269488
+SHUFFLE	COPY_MAP_DATA	3099762000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	850936
+SHUFFLE	COMPRESS_BYTE_COUNT	270527
+SHUFFLE	COPY_MAP_DATA	86658000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	908318
+SHUFFLE	COMPRESS_BYTE_COUNT	284453
+SHUFFLE	COPY_MAP_DATA	17557000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	889878
+SHUFFLE	COMPRESS_BYTE_COUNT	282119
+SHUFFLE	COPY_MAP_DATA	27864000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	889416
+SHUFFLE	COMPRESS_BYTE_COUNT	259177
+SHUFFLE	COPY_MAP_DATA	104836000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	899158
+SHUFFLE	COMPRESS_BYTE_COUNT	276843
+SHUFFLE	COPY_MAP_DATA	46056000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	844628
+SHUFFLE	COMPRESS_BYTE_COUNT	255920
+SHUFFLE	COPY_MAP_DATA	109688000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	864203
+SHUFFLE	COMPRESS_BYTE_COUNT	272679
+SHUFFLE	COPY_MAP_DATA	14848000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	856444
+SHUFFLE	COMPRESS_BYTE_COUNT	271947
+SHUFFLE	COPY_MAP_DATA	862589000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	932120
+SHUFFLE	COMPRESS_BYTE_COUNT	287274
+SHUFFLE	COPY_MAP_DATA	226931000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	934928
+SHUFFLE	COMPRESS_BYTE_COUNT	292912
+SHUFFLE	COPY_MAP_DATA	48531000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	848705
+SHUFFLE	COMPRESS_BYTE_COUNT	265377
+SHUFFLE	COPY_MAP_DATA	103269000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	875298
+SHUFFLE	COMPRESS_BYTE_COUNT	260169
+SHUFFLE	COPY_MAP_DATA	14578000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	873725
+SHUFFLE	COMPRESS_BYTE_COUNT	278903
+SHUFFLE	COPY_MAP_DATA	16517000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	832324
+SHUFFLE	COMPRESS_BYTE_COUNT	269951
+SHUFFLE	COPY_MAP_DATA	16314000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	837410
+SHUFFLE	COMPRESS_BYTE_COUNT	252910
+SHUFFLE	COPY_MAP_DATA	15405000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	915470
+SHUFFLE	COMPRESS_BYTE_COUNT	285857
+SHUFFLE	COPY_MAP_DATA	16294000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	778940
+SHUFFLE	COMPRESS_BYTE_COUNT	244566
+SHUFFLE	COPY_MAP_DATA	15669000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	856284
+SHUFFLE	COMPRESS_BYTE_COUNT	263155
+SHUFFLE	COPY_MAP_DATA	213017000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	793819
+SHUFFLE	COMPRESS_BYTE_COUNT	241700
+SHUFFLE	COPY_MAP_DATA	144142000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	855369
+SHUFFLE	COMPRESS_BYTE_COUNT	255463
+SHUFFLE	COPY_MAP_DATA	108985000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	967759
+SHUFFLE	COMPRESS_BYTE_COUNT	280481
+SHUFFLE	COPY_MAP_DATA	685145000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	990637
+SHUFFLE	COMPRESS_BYTE_COUNT	291535
+SHUFFLE	COPY_MAP_DATA	381214000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	832880
+SHUFFLE	COMPRESS_BYTE_COUNT	267858
+SHUFFLE	COPY_MAP_DATA	17519000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	823187
+SHUFFLE	COMPRESS_BYTE_COUNT	249860
+SHUFFLE	COPY_MAP_DATA	15623000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	800264
+SHUFFLE	COMPRESS_BYTE_COUNT	246896
+SHUFFLE	COPY_MAP_DATA	15922000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	836742
+SHUFFLE	COMPRESS_BYTE_COUNT	260691
+SHUFFLE	COPY_MAP_DATA	151813000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	862093
+SHUFFLE	COMPRESS_BYTE_COUNT	257526
+SHUFFLE	COPY_MAP_DATA	207658000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	822034
+SHUFFLE	COMPRESS_BYTE_COUNT	245218
+SHUFFLE	COPY_MAP_DATA	44011000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	808016
+SHUFFLE	COMPRESS_BYTE_COUNT	247861
+SHUFFLE	COPY_MAP_DATA	14273000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	856979
+SHUFFLE	COMPRESS_BYTE_COUNT	258439
+SHUFFLE	COPY_MAP_DATA	13602000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	914126
+SHUFFLE	COMPRESS_BYTE_COUNT	221398
+SHUFFLE	COPY_MAP_DATA	14982000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	719929
+SHUFFLE	COMPRESS_BYTE_COUNT	230958
+SHUFFLE	COPY_MAP_DATA	59282000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	881005
+SHUFFLE	COMPRESS_BYTE_COUNT	267995
+SHUFFLE	COPY_MAP_DATA	306962000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	797390
+SHUFFLE	COMPRESS_BYTE_COUNT	249569
+SHUFFLE	COPY_MAP_DATA	57009000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	953827
+SHUFFLE	COMPRESS_BYTE_COUNT	282037
+SHUFFLE	COPY_MAP_DATA	228315000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	815751
+SHUFFLE	COMPRESS_BYTE_COUNT	253177
+SHUFFLE	COPY_MAP_DATA	206931000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	766252
+SHUFFLE	COMPRESS_BYTE_COUNT	233112
+SHUFFLE	COPY_MAP_DATA	574442000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	792406
+SHUFFLE	COMPRESS_BYTE_COUNT	244134
+SHUFFLE	COPY_MAP_DATA	199997000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	741481
+SHUFFLE	COMPRESS_BYTE_COUNT	234337
+SHUFFLE	COPY_MAP_DATA	285833000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	823113
+SHUFFLE	COMPRESS_BYTE_COUNT	252130
+SHUFFLE	COPY_MAP_DATA	213114000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	799149
+SHUFFLE	COMPRESS_BYTE_COUNT	246443
+SHUFFLE	COPY_MAP_DATA	15226000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	786630
+SHUFFLE	COMPRESS_BYTE_COUNT	238823
+SHUFFLE	COPY_MAP_DATA	476348000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	820442
+SHUFFLE	COMPRESS_BYTE_COUNT	252542
+SHUFFLE	COPY_MAP_DATA	15337000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	729798
+SHUFFLE	COMPRESS_BYTE_COUNT	229272
+SHUFFLE	COPY_MAP_DATA	113547000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	759908
+SHUFFLE	COMPRESS_BYTE_COUNT	239108
+SHUFFLE	COPY_MAP_DATA	412906000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	793568
+SHUFFLE	COMPRESS_BYTE_COUNT	239320
+SHUFFLE	COPY_MAP_DATA	148648000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	783215
+SHUFFLE	COMPRESS_BYTE_COUNT	236998
+SHUFFLE	COPY_MAP_DATA	39725000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	743754
+SHUFFLE	COMPRESS_BYTE_COUNT	231421
+SHUFFLE	COPY_MAP_DATA	215581000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	985789
+SHUFFLE	COMPRESS_BYTE_COUNT	286272
+SHUFFLE	COPY_MAP_DATA	132260000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	825768
+SHUFFLE	COMPRESS_BYTE_COUNT	247539
+SHUFFLE	COPY_MAP_DATA	99713000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	823199
+SHUFFLE	COMPRESS_BYTE_COUNT	261469
+SHUFFLE	COPY_MAP_DATA	15589000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	834754
+SHUFFLE	COMPRESS_BYTE_COUNT	258840
+SHUFFLE	COPY_MAP_DATA	17782000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	808327
+SHUFFLE	COMPRESS_BYTE_COUNT	248075
+SHUFFLE	COPY_MAP_DATA	90039000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	881218
+SHUFFLE	COMPRESS_BYTE_COUNT	233416
+SHUFFLE	COPY_MAP_DATA	211913000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	799178
+SHUFFLE	COMPRESS_BYTE_COUNT	238325
+SHUFFLE	COPY_MAP_DATA	2286815000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	754076
+SHUFFLE	COMPRESS_BYTE_COUNT	233775
+SHUFFLE	COPY_MAP_DATA	27744000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1115669
+SHUFFLE	COMPRESS_BYTE_COUNT	357066
+SHUFFLE	COPY_MAP_DATA	20585000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	877565
+SHUFFLE	COMPRESS_BYTE_COUNT	260459
+SHUFFLE	COPY_MAP_DATA	191891000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	918107
+SHUFFLE	COMPRESS_BYTE_COUNT	278937
+SHUFFLE	COPY_MAP_DATA	16207000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	814697
+SHUFFLE	COMPRESS_BYTE_COUNT	244948
+SHUFFLE	COPY_MAP_DATA	27386000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	857272
+SHUFFLE	COMPRESS_BYTE_COUNT	256586
+SHUFFLE	COPY_MAP_DATA	23637000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	749836
+SHUFFLE	COMPRESS_BYTE_COUNT	233425
+SHUFFLE	COPY_MAP_DATA	1067855000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	743599
+SHUFFLE	COMPRESS_BYTE_COUNT	226576
+SHUFFLE	COPY_MAP_DATA	346996000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	877522
+SHUFFLE	COMPRESS_BYTE_COUNT	270220
+SHUFFLE	COPY_MAP_DATA	111903000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	801859
+SHUFFLE	COMPRESS_BYTE_COUNT	245734
+SHUFFLE	COPY_MAP_DATA	2428979000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	743648
+SHUFFLE	COMPRESS_BYTE_COUNT	229093
+SHUFFLE	COPY_MAP_DATA	126007000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	762641
+SHUFFLE	COMPRESS_BYTE_COUNT	225860
+SHUFFLE	COPY_MAP_DATA	75299000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	781217
+SHUFFLE	COMPRESS_BYTE_COUNT	242723
+SHUFFLE	COPY_MAP_DATA	804105000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	779259
+SHUFFLE	COMPRESS_BYTE_COUNT	234728
+SHUFFLE	COPY_MAP_DATA	102012000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	744071
+SHUFFLE	COMPRESS_BYTE_COUNT	232580
+SHUFFLE	COPY_MAP_DATA	13399000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	734738
+SHUFFLE	COMPRESS_BYTE_COUNT	229943
+SHUFFLE	COPY_MAP_DATA	19980000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	751336
+SHUFFLE	COMPRESS_BYTE_COUNT	235344
+SHUFFLE	COPY_MAP_DATA	19499000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	846436
+SHUFFLE	COMPRESS_BYTE_COUNT	242120
+SHUFFLE	COPY_MAP_DATA	611834000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	783194
+SHUFFLE	COMPRESS_BYTE_COUNT	238631
+SHUFFLE	COPY_MAP_DATA	14865000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	742699
+SHUFFLE	COMPRESS_BYTE_COUNT	225485
+SHUFFLE	COPY_MAP_DATA	785874000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	703415
+SHUFFLE	COMPRESS_BYTE_COUNT	215247
+SHUFFLE	COPY_MAP_DATA	13640000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	738579
+SHUFFLE	COMPRESS_BYTE_COUNT	224260
+SHUFFLE	COPY_MAP_DATA	14261000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	778558
+SHUFFLE	COMPRESS_BYTE_COUNT	232301
+SHUFFLE	COPY_MAP_DATA	89130000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1031837
+SHUFFLE	COMPRESS_BYTE_COUNT	336278
+SHUFFLE	COPY_MAP_DATA	364768000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	986991
+SHUFFLE	COMPRESS_BYTE_COUNT	278524
+SHUFFLE	COPY_MAP_DATA	70477000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	768895
+SHUFFLE	COMPRESS_BYTE_COUNT	234504
+SHUFFLE	COPY_MAP_DATA	17629000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	836496
+SHUFFLE	COMPRESS_BYTE_COUNT	246986
+SHUFFLE	COPY_MAP_DATA	34464000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	778624
+SHUFFLE	COMPRESS_BYTE_COUNT	224385
+SHUFFLE	COPY_MAP_DATA	50216000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	759066
+SHUFFLE	COMPRESS_BYTE_COUNT	232642
+SHUFFLE	COPY_MAP_DATA	141392000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	730628
+SHUFFLE	COMPRESS_BYTE_COUNT	225402
+SHUFFLE	COPY_MAP_DATA	16935000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	827598
+SHUFFLE	COMPRESS_BYTE_COUNT	248622
+SHUFFLE	COPY_MAP_DATA	214883000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	839443
+SHUFFLE	COMPRESS_BYTE_COUNT	257137
+SHUFFLE	COPY_MAP_DATA	16365000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	823972
+SHUFFLE	COMPRESS_BYTE_COUNT	255768
+SHUFFLE	COPY_MAP_DATA	16992000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	872501
+SHUFFLE	COMPRESS_BYTE_COUNT	263871
+SHUFFLE	COPY_MAP_DATA	171860000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	760136
+SHUFFLE	COMPRESS_BYTE_COUNT	231647
+SHUFFLE	COPY_MAP_DATA	29721000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	769222
+SHUFFLE	COMPRESS_BYTE_COUNT	229616
+SHUFFLE	COPY_MAP_DATA	86930000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	737644
+SHUFFLE	COMPRESS_BYTE_COUNT	227827
+SHUFFLE	COPY_MAP_DATA	14109000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	773513
+SHUFFLE	COMPRESS_BYTE_COUNT	235898
+SHUFFLE	COPY_MAP_DATA	178774000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	778065
+SHUFFLE	COMPRESS_BYTE_COUNT	236938
+SHUFFLE	COPY_MAP_DATA	123145000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	914165
+SHUFFLE	COMPRESS_BYTE_COUNT	262107
+SHUFFLE	COPY_MAP_DATA	48825000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	800869
+SHUFFLE	COMPRESS_BYTE_COUNT	246773
+SHUFFLE	COPY_MAP_DATA	13707000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	893977
+SHUFFLE	COMPRESS_BYTE_COUNT	265818
+SHUFFLE	COPY_MAP_DATA	15489000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	873215
+SHUFFLE	COMPRESS_BYTE_COUNT	253010
+SHUFFLE	COPY_MAP_DATA	92100000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	920976
+SHUFFLE	COMPRESS_BYTE_COUNT	246180
+SHUFFLE	COPY_MAP_DATA	86147000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	884903
+SHUFFLE	COMPRESS_BYTE_COUNT	263213
+SHUFFLE	COPY_MAP_DATA	231961000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	762473
+SHUFFLE	COMPRESS_BYTE_COUNT	231384
+SHUFFLE	COPY_MAP_DATA	96947000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	999251
+SHUFFLE	COMPRESS_BYTE_COUNT	313692
+SHUFFLE	COPY_MAP_DATA	183554000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	745161
+SHUFFLE	COMPRESS_BYTE_COUNT	229366
+SHUFFLE	COPY_MAP_DATA	14759000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	768007
+SHUFFLE	COMPRESS_BYTE_COUNT	230428
+SHUFFLE	COPY_MAP_DATA	159684000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	714805
+SHUFFLE	COMPRESS_BYTE_COUNT	218600
+SHUFFLE	COPY_MAP_DATA	311128000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	894599
+SHUFFLE	COMPRESS_BYTE_COUNT	196477
+SHUFFLE	COPY_MAP_DATA	15043000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	847697
+SHUFFLE	COMPRESS_BYTE_COUNT	255641
+SHUFFLE	COPY_MAP_DATA	15598000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	747951
+SHUFFLE	COMPRESS_BYTE_COUNT	223196
+SHUFFLE	COPY_MAP_DATA	13639000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	731196
+SHUFFLE	COMPRESS_BYTE_COUNT	233747
+SHUFFLE	COPY_MAP_DATA	1070463000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	760136
+SHUFFLE	COMPRESS_BYTE_COUNT	231647
+SHUFFLE	COPY_MAP_DATA	98268000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	683374
+SHUFFLE	COMPRESS_BYTE_COUNT	207471
+SHUFFLE	COPY_MAP_DATA	12798000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	859242
+SHUFFLE	COMPRESS_BYTE_COUNT	246539
+SHUFFLE	COPY_MAP_DATA	13201000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	718714
+SHUFFLE	COMPRESS_BYTE_COUNT	225734
+SHUFFLE	COPY_MAP_DATA	13585000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	834218
+SHUFFLE	COMPRESS_BYTE_COUNT	247473
+SHUFFLE	COPY_MAP_DATA	14271000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	993508
+SHUFFLE	COMPRESS_BYTE_COUNT	170118
+SHUFFLE	COPY_MAP_DATA	45234000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	710064
+SHUFFLE	COMPRESS_BYTE_COUNT	214787
+SHUFFLE	COPY_MAP_DATA	14084000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	810139
+SHUFFLE	COMPRESS_BYTE_COUNT	252014
+SHUFFLE	COPY_MAP_DATA	30387000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	955933
+SHUFFLE	COMPRESS_BYTE_COUNT	290286
+SHUFFLE	COPY_MAP_DATA	17085000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	781460
+SHUFFLE	COMPRESS_BYTE_COUNT	237684
+SHUFFLE	COPY_MAP_DATA	13140000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	806099
+SHUFFLE	COMPRESS_BYTE_COUNT	226934
+SHUFFLE	COPY_MAP_DATA	14699000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	625841
+SHUFFLE	COMPRESS_BYTE_COUNT	199794
+SHUFFLE	COPY_MAP_DATA	11750000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	766515
+SHUFFLE	COMPRESS_BYTE_COUNT	232344
+SHUFFLE	COPY_MAP_DATA	12914000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	772541
+SHUFFLE	COMPRESS_BYTE_COUNT	243232
+SHUFFLE	COPY_MAP_DATA	15572000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1120017
+SHUFFLE	COMPRESS_BYTE_COUNT	305802
+SHUFFLE	COPY_MAP_DATA	18024000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	782160
+SHUFFLE	COMPRESS_BYTE_COUNT	233467
+SHUFFLE	COPY_MAP_DATA	14741000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1032826
+SHUFFLE	COMPRESS_BYTE_COUNT	321780
+SHUFFLE	COPY_MAP_DATA	18024000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	756559
+SHUFFLE	COMPRESS_BYTE_COUNT	244268
+SHUFFLE	COPY_MAP_DATA	14858000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	195057982000
+MERGE	READ_WRITE	194839169000
+MERGE	READ_WRITE_COUNT	2
+MERGE	COMBINE	0
+MERGE	WRITE	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	34591205000
+SORT	READ_WRITE	34477542000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	189322976
+REDUCE	SETUP	409000
+REDUCE	SETUP_MEM	189322976
+REDUCE	CLEANUP	36000
+REDUCE	CLEANUP_MEM	162537984
+REDUCE	TOTAL_RUN	114378051000
+REDUCE	READ	8447235000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	99668894000
+REDUCE	WRITE	44205668000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	71469181
+REDUCE	VALUE_BYTE_COUNT	65489265
+REDUCE	REDUCE_MEM	162537984
+REDUCE	WRITE	8652000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	782272231000
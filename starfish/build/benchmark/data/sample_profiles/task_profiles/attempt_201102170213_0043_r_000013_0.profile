@@ -0,0 +1,1333 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1819327
+SHUFFLE	COMPRESS_BYTE_COUNT	546447
+SHUFFLE	COPY_MAP_DATA	53540000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1875388
+SHUFFLE	COMPRESS_BYTE_COUNT	525136
+SHUFFLE	COPY_MAP_DATA	36165000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1936195
+SHUFFLE	COMPRESS_BYTE_COUNT	557456
+SHUFFLE	COPY_MAP_DATA	103367000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2031913
+SHUFFLE	COMPRESS_BYTE_COUNT	571626
+SHUFFLE	COPY_MAP_DATA	34665000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1683494
+SHUFFLE	COMPRESS_BYTE_COUNT	467467
+SHUFFLE	COPY_MAP_DATA	116637000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1912130
+SHUFFLE	COMPRESS_BYTE_COUNT	555814
+SHUFFLE	COPY_MAP_DATA	32858000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1847735
+SHUFFLE	COMPRESS_BYTE_COUNT	472610
+SHUFFLE	COPY_MAP_DATA	70980000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2027036
+SHUFFLE	COMPRESS_BYTE_COUNT	552627
+SHUFFLE	COPY_MAP_DATA	31505000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1949169
+SHUFFLE	COMPRESS_BYTE_COUNT	564820
+SHUFFLE	COPY_MAP_DATA	33999000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1950130
+SHUFFLE	COMPRESS_BYTE_COUNT	554821
+SHUFFLE	COPY_MAP_DATA	55198000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1951268
+SHUFFLE	COMPRESS_BYTE_COUNT	577195
+SHUFFLE	COPY_MAP_DATA	41741000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1971845
+SHUFFLE	COMPRESS_BYTE_COUNT	575205
+SHUFFLE	COPY_MAP_DATA	42064000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1944256
+SHUFFLE	COMPRESS_BYTE_COUNT	556709
+SHUFFLE	COPY_MAP_DATA	41138000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1948570
+SHUFFLE	COMPRESS_BYTE_COUNT	564329
+SHUFFLE	COPY_MAP_DATA	93823000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2003656
+SHUFFLE	COMPRESS_BYTE_COUNT	556903
+SHUFFLE	COPY_MAP_DATA	91945000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1919782
+SHUFFLE	COMPRESS_BYTE_COUNT	571084
+SHUFFLE	COPY_MAP_DATA	31542000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1911167
+SHUFFLE	COMPRESS_BYTE_COUNT	569328
+SHUFFLE	COPY_MAP_DATA	49672000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2048048
+SHUFFLE	COMPRESS_BYTE_COUNT	544546
+SHUFFLE	COPY_MAP_DATA	30814000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1878584
+SHUFFLE	COMPRESS_BYTE_COUNT	550136
+SHUFFLE	COPY_MAP_DATA	30117000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1915924
+SHUFFLE	COMPRESS_BYTE_COUNT	564831
+SHUFFLE	COPY_MAP_DATA	99993000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1796101
+SHUFFLE	COMPRESS_BYTE_COUNT	489044
+SHUFFLE	COPY_MAP_DATA	34224000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2032943
+SHUFFLE	COMPRESS_BYTE_COUNT	549160
+SHUFFLE	COPY_MAP_DATA	34661000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2140961
+SHUFFLE	COMPRESS_BYTE_COUNT	583637
+SHUFFLE	COPY_MAP_DATA	32057000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1892679
+SHUFFLE	COMPRESS_BYTE_COUNT	557970
+SHUFFLE	COPY_MAP_DATA	53737000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2111644
+SHUFFLE	COMPRESS_BYTE_COUNT	566255
+SHUFFLE	COPY_MAP_DATA	29662000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1937852
+SHUFFLE	COMPRESS_BYTE_COUNT	565050
+SHUFFLE	COPY_MAP_DATA	118251000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1951075
+SHUFFLE	COMPRESS_BYTE_COUNT	566748
+SHUFFLE	COPY_MAP_DATA	41412000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2031356
+SHUFFLE	COMPRESS_BYTE_COUNT	573068
+SHUFFLE	COPY_MAP_DATA	29606000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2020134
+SHUFFLE	COMPRESS_BYTE_COUNT	563177
+SHUFFLE	COPY_MAP_DATA	58761000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2055413
+SHUFFLE	COMPRESS_BYTE_COUNT	559262
+SHUFFLE	COPY_MAP_DATA	81267000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1855487
+SHUFFLE	COMPRESS_BYTE_COUNT	553791
+SHUFFLE	COPY_MAP_DATA	42001000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1839283
+SHUFFLE	COMPRESS_BYTE_COUNT	540181
+SHUFFLE	COPY_MAP_DATA	84592000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1724177
+SHUFFLE	COMPRESS_BYTE_COUNT	527498
+SHUFFLE	COPY_MAP_DATA	141600000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1889637
+SHUFFLE	COMPRESS_BYTE_COUNT	559729
+SHUFFLE	COPY_MAP_DATA	42956000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1813073
+SHUFFLE	COMPRESS_BYTE_COUNT	534694
+SHUFFLE	COPY_MAP_DATA	95325000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1959729
+SHUFFLE	COMPRESS_BYTE_COUNT	569252
+SHUFFLE	COPY_MAP_DATA	47546000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1762034
+SHUFFLE	COMPRESS_BYTE_COUNT	532932
+SHUFFLE	COPY_MAP_DATA	127796000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1859427
+SHUFFLE	COMPRESS_BYTE_COUNT	546806
+SHUFFLE	COPY_MAP_DATA	28341000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1537163
+SHUFFLE	COMPRESS_BYTE_COUNT	457472
+SHUFFLE	COPY_MAP_DATA	130221000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1832454
+SHUFFLE	COMPRESS_BYTE_COUNT	544422
+SHUFFLE	COPY_MAP_DATA	171421000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1930570
+SHUFFLE	COMPRESS_BYTE_COUNT	569206
+SHUFFLE	COPY_MAP_DATA	104609000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1964333
+SHUFFLE	COMPRESS_BYTE_COUNT	563226
+SHUFFLE	COPY_MAP_DATA	319041000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1870559
+SHUFFLE	COMPRESS_BYTE_COUNT	549171
+SHUFFLE	COPY_MAP_DATA	27917000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1838380
+SHUFFLE	COMPRESS_BYTE_COUNT	548428
+SHUFFLE	COPY_MAP_DATA	1033822000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1809010
+SHUFFLE	COMPRESS_BYTE_COUNT	546949
+SHUFFLE	COPY_MAP_DATA	125267000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1905971
+SHUFFLE	COMPRESS_BYTE_COUNT	558872
+SHUFFLE	COPY_MAP_DATA	4318467000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1562733
+SHUFFLE	COMPRESS_BYTE_COUNT	420479
+SHUFFLE	COPY_MAP_DATA	32634000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1765073
+SHUFFLE	COMPRESS_BYTE_COUNT	538061
+SHUFFLE	COPY_MAP_DATA	28148000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1606936
+SHUFFLE	COMPRESS_BYTE_COUNT	477085
+SHUFFLE	COPY_MAP_DATA	27253000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1645949
+SHUFFLE	COMPRESS_BYTE_COUNT	494458
+SHUFFLE	COPY_MAP_DATA	157966000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1660798
+SHUFFLE	COMPRESS_BYTE_COUNT	480278
+SHUFFLE	COPY_MAP_DATA	25934000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1870636
+SHUFFLE	COMPRESS_BYTE_COUNT	534009
+SHUFFLE	COPY_MAP_DATA	28618000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1758503
+SHUFFLE	COMPRESS_BYTE_COUNT	538888
+SHUFFLE	COPY_MAP_DATA	382496000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1829720
+SHUFFLE	COMPRESS_BYTE_COUNT	529909
+SHUFFLE	COPY_MAP_DATA	123358000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1771840
+SHUFFLE	COMPRESS_BYTE_COUNT	505641
+SHUFFLE	COPY_MAP_DATA	232719000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1721478
+SHUFFLE	COMPRESS_BYTE_COUNT	501995
+SHUFFLE	COPY_MAP_DATA	62461000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1927188
+SHUFFLE	COMPRESS_BYTE_COUNT	551926
+SHUFFLE	COPY_MAP_DATA	68985000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1895061
+SHUFFLE	COMPRESS_BYTE_COUNT	551219
+SHUFFLE	COPY_MAP_DATA	115981000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1737295
+SHUFFLE	COMPRESS_BYTE_COUNT	522640
+SHUFFLE	COPY_MAP_DATA	53562000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1708053
+SHUFFLE	COMPRESS_BYTE_COUNT	521363
+SHUFFLE	COPY_MAP_DATA	26450000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1623904
+SHUFFLE	COMPRESS_BYTE_COUNT	478245
+SHUFFLE	COPY_MAP_DATA	42547000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1579968
+SHUFFLE	COMPRESS_BYTE_COUNT	470891
+SHUFFLE	COPY_MAP_DATA	588050000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1619305
+SHUFFLE	COMPRESS_BYTE_COUNT	483342
+SHUFFLE	COPY_MAP_DATA	4352291000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1647149
+SHUFFLE	COMPRESS_BYTE_COUNT	481608
+SHUFFLE	COPY_MAP_DATA	28015000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1603485
+SHUFFLE	COMPRESS_BYTE_COUNT	449551
+SHUFFLE	COPY_MAP_DATA	25762000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1912916
+SHUFFLE	COMPRESS_BYTE_COUNT	541122
+SHUFFLE	COPY_MAP_DATA	411583000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1556481
+SHUFFLE	COMPRESS_BYTE_COUNT	455252
+SHUFFLE	COPY_MAP_DATA	23597000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1637368
+SHUFFLE	COMPRESS_BYTE_COUNT	477904
+SHUFFLE	COPY_MAP_DATA	41064000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1542109
+SHUFFLE	COMPRESS_BYTE_COUNT	449995
+SHUFFLE	COPY_MAP_DATA	30726000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1656283
+SHUFFLE	COMPRESS_BYTE_COUNT	472194
+SHUFFLE	COPY_MAP_DATA	24432000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1605951
+SHUFFLE	COMPRESS_BYTE_COUNT	461306
+SHUFFLE	COPY_MAP_DATA	24280000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1639294
+SHUFFLE	COMPRESS_BYTE_COUNT	478451
+SHUFFLE	COPY_MAP_DATA	83752000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1647882
+SHUFFLE	COMPRESS_BYTE_COUNT	464598
+SHUFFLE	COPY_MAP_DATA	23159000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1643567
+SHUFFLE	COMPRESS_BYTE_COUNT	475381
+SHUFFLE	COPY_MAP_DATA	29349000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1624423
+SHUFFLE	COMPRESS_BYTE_COUNT	472828
+SHUFFLE	COPY_MAP_DATA	23211000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1899766
+SHUFFLE	COMPRESS_BYTE_COUNT	580283
+SHUFFLE	COPY_MAP_DATA	29300000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1635419
+SHUFFLE	COMPRESS_BYTE_COUNT	481473
+SHUFFLE	COPY_MAP_DATA	24483000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1652535
+SHUFFLE	COMPRESS_BYTE_COUNT	481004
+SHUFFLE	COPY_MAP_DATA	99904000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1838021
+SHUFFLE	COMPRESS_BYTE_COUNT	527070
+SHUFFLE	COPY_MAP_DATA	35472000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1894083
+SHUFFLE	COMPRESS_BYTE_COUNT	582021
+SHUFFLE	COPY_MAP_DATA	28041000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1565154
+SHUFFLE	COMPRESS_BYTE_COUNT	456032
+SHUFFLE	COPY_MAP_DATA	1330361000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1616058
+SHUFFLE	COMPRESS_BYTE_COUNT	475779
+SHUFFLE	COPY_MAP_DATA	52335000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1724137
+SHUFFLE	COMPRESS_BYTE_COUNT	488032
+SHUFFLE	COPY_MAP_DATA	103855000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1658681
+SHUFFLE	COMPRESS_BYTE_COUNT	482692
+SHUFFLE	COPY_MAP_DATA	34296000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1772552
+SHUFFLE	COMPRESS_BYTE_COUNT	524656
+SHUFFLE	COPY_MAP_DATA	26224000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1757276
+SHUFFLE	COMPRESS_BYTE_COUNT	542305
+SHUFFLE	COPY_MAP_DATA	287667000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1591236
+SHUFFLE	COMPRESS_BYTE_COUNT	471043
+SHUFFLE	COPY_MAP_DATA	143058000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	841933
+SHUFFLE	COMPRESS_BYTE_COUNT	235873
+SHUFFLE	COPY_MAP_DATA	276968000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1472499
+SHUFFLE	COMPRESS_BYTE_COUNT	442016
+SHUFFLE	COPY_MAP_DATA	3343062000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1606542
+SHUFFLE	COMPRESS_BYTE_COUNT	454681
+SHUFFLE	COPY_MAP_DATA	4656671000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1621770
+SHUFFLE	COMPRESS_BYTE_COUNT	462265
+SHUFFLE	COPY_MAP_DATA	299011000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1005804
+SHUFFLE	COMPRESS_BYTE_COUNT	267832
+SHUFFLE	COPY_MAP_DATA	89355000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	937205
+SHUFFLE	COMPRESS_BYTE_COUNT	270600
+SHUFFLE	COPY_MAP_DATA	37980000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	816316
+SHUFFLE	COMPRESS_BYTE_COUNT	241173
+SHUFFLE	COPY_MAP_DATA	14056000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2002181
+SHUFFLE	COMPRESS_BYTE_COUNT	494088
+SHUFFLE	COPY_MAP_DATA	1323191000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1052556
+SHUFFLE	COMPRESS_BYTE_COUNT	297687
+SHUFFLE	COPY_MAP_DATA	17743000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	858898
+SHUFFLE	COMPRESS_BYTE_COUNT	246963
+SHUFFLE	COPY_MAP_DATA	16068000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1417759
+SHUFFLE	COMPRESS_BYTE_COUNT	422568
+SHUFFLE	COPY_MAP_DATA	22913000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1531394
+SHUFFLE	COMPRESS_BYTE_COUNT	452487
+SHUFFLE	COPY_MAP_DATA	475514000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	867180
+SHUFFLE	COMPRESS_BYTE_COUNT	243377
+SHUFFLE	COPY_MAP_DATA	17279000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1516194
+SHUFFLE	COMPRESS_BYTE_COUNT	452782
+SHUFFLE	COPY_MAP_DATA	281535000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1596286
+SHUFFLE	COMPRESS_BYTE_COUNT	472246
+SHUFFLE	COPY_MAP_DATA	26197000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1434428
+SHUFFLE	COMPRESS_BYTE_COUNT	422169
+SHUFFLE	COPY_MAP_DATA	533248000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1620759
+SHUFFLE	COMPRESS_BYTE_COUNT	481508
+SHUFFLE	COPY_MAP_DATA	66086000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1042269
+SHUFFLE	COMPRESS_BYTE_COUNT	295276
+SHUFFLE	COPY_MAP_DATA	21650000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1532333
+SHUFFLE	COMPRESS_BYTE_COUNT	443249
+SHUFFLE	COPY_MAP_DATA	185069000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	958219
+SHUFFLE	COMPRESS_BYTE_COUNT	286923
+SHUFFLE	COPY_MAP_DATA	594977000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1498723
+SHUFFLE	COMPRESS_BYTE_COUNT	442521
+SHUFFLE	COPY_MAP_DATA	179887000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1795919
+SHUFFLE	COMPRESS_BYTE_COUNT	546964
+SHUFFLE	COPY_MAP_DATA	2747343000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1794667
+SHUFFLE	COMPRESS_BYTE_COUNT	517755
+SHUFFLE	COPY_MAP_DATA	61389000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	969266
+SHUFFLE	COMPRESS_BYTE_COUNT	279146
+SHUFFLE	COPY_MAP_DATA	4207915000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1078784
+SHUFFLE	COMPRESS_BYTE_COUNT	296074
+SHUFFLE	COPY_MAP_DATA	20544000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1805605
+SHUFFLE	COMPRESS_BYTE_COUNT	489699
+SHUFFLE	COPY_MAP_DATA	70735000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1278219
+SHUFFLE	COMPRESS_BYTE_COUNT	308040
+SHUFFLE	COPY_MAP_DATA	18632000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	974482
+SHUFFLE	COMPRESS_BYTE_COUNT	286710
+SHUFFLE	COPY_MAP_DATA	19793000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1636958
+SHUFFLE	COMPRESS_BYTE_COUNT	476810
+SHUFFLE	COPY_MAP_DATA	23170000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1649759
+SHUFFLE	COMPRESS_BYTE_COUNT	498774
+SHUFFLE	COPY_MAP_DATA	3219609000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1003755
+SHUFFLE	COMPRESS_BYTE_COUNT	292596
+SHUFFLE	COPY_MAP_DATA	40602000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1829135
+SHUFFLE	COMPRESS_BYTE_COUNT	532902
+SHUFFLE	COPY_MAP_DATA	735419000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1523184
+SHUFFLE	COMPRESS_BYTE_COUNT	451784
+SHUFFLE	COPY_MAP_DATA	23648000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2250487
+SHUFFLE	COMPRESS_BYTE_COUNT	520669
+SHUFFLE	COPY_MAP_DATA	173881000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	982805
+SHUFFLE	COMPRESS_BYTE_COUNT	290979
+SHUFFLE	COPY_MAP_DATA	1758869000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1024943
+SHUFFLE	COMPRESS_BYTE_COUNT	301616
+SHUFFLE	COPY_MAP_DATA	222787000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	944047
+SHUFFLE	COMPRESS_BYTE_COUNT	294021
+SHUFFLE	COPY_MAP_DATA	210703000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1010045
+SHUFFLE	COMPRESS_BYTE_COUNT	291753
+SHUFFLE	COPY_MAP_DATA	15995000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	917171
+SHUFFLE	COMPRESS_BYTE_COUNT	264566
+SHUFFLE	COPY_MAP_DATA	15436000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	961933
+SHUFFLE	COMPRESS_BYTE_COUNT	289030
+SHUFFLE	COPY_MAP_DATA	16896000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1008078
+SHUFFLE	COMPRESS_BYTE_COUNT	299251
+SHUFFLE	COPY_MAP_DATA	67267000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	986578
+SHUFFLE	COMPRESS_BYTE_COUNT	299377
+SHUFFLE	COPY_MAP_DATA	18566000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	966100
+SHUFFLE	COMPRESS_BYTE_COUNT	289501
+SHUFFLE	COPY_MAP_DATA	16733000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1013146
+SHUFFLE	COMPRESS_BYTE_COUNT	295902
+SHUFFLE	COPY_MAP_DATA	58979000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	959448
+SHUFFLE	COMPRESS_BYTE_COUNT	295247
+SHUFFLE	COPY_MAP_DATA	20575000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	982325
+SHUFFLE	COMPRESS_BYTE_COUNT	292837
+SHUFFLE	COPY_MAP_DATA	15318000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1023837
+SHUFFLE	COMPRESS_BYTE_COUNT	302533
+SHUFFLE	COPY_MAP_DATA	17398000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	956521
+SHUFFLE	COMPRESS_BYTE_COUNT	291371
+SHUFFLE	COPY_MAP_DATA	15975000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1098158
+SHUFFLE	COMPRESS_BYTE_COUNT	299343
+SHUFFLE	COPY_MAP_DATA	3756439000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	999903
+SHUFFLE	COMPRESS_BYTE_COUNT	295617
+SHUFFLE	COPY_MAP_DATA	790910000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1013488
+SHUFFLE	COMPRESS_BYTE_COUNT	293559
+SHUFFLE	COPY_MAP_DATA	43294000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1048553
+SHUFFLE	COMPRESS_BYTE_COUNT	310958
+SHUFFLE	COPY_MAP_DATA	179750000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	960509
+SHUFFLE	COMPRESS_BYTE_COUNT	292870
+SHUFFLE	COPY_MAP_DATA	18108000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	968085
+SHUFFLE	COMPRESS_BYTE_COUNT	287552
+SHUFFLE	COPY_MAP_DATA	17341000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	953016
+SHUFFLE	COMPRESS_BYTE_COUNT	293093
+SHUFFLE	COPY_MAP_DATA	27119000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	985269
+SHUFFLE	COMPRESS_BYTE_COUNT	303924
+SHUFFLE	COPY_MAP_DATA	16441000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	927839
+SHUFFLE	COMPRESS_BYTE_COUNT	276428
+SHUFFLE	COPY_MAP_DATA	17071000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	968459
+SHUFFLE	COMPRESS_BYTE_COUNT	296557
+SHUFFLE	COPY_MAP_DATA	31428000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	962910
+SHUFFLE	COMPRESS_BYTE_COUNT	296976
+SHUFFLE	COPY_MAP_DATA	85613000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	981333
+SHUFFLE	COMPRESS_BYTE_COUNT	301649
+SHUFFLE	COPY_MAP_DATA	30920000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1116020
+SHUFFLE	COMPRESS_BYTE_COUNT	310765
+SHUFFLE	COPY_MAP_DATA	75866000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	971091
+SHUFFLE	COMPRESS_BYTE_COUNT	300096
+SHUFFLE	COPY_MAP_DATA	555676000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	979470
+SHUFFLE	COMPRESS_BYTE_COUNT	294037
+SHUFFLE	COPY_MAP_DATA	219077000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	953435
+SHUFFLE	COMPRESS_BYTE_COUNT	290872
+SHUFFLE	COPY_MAP_DATA	441008000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	982811
+SHUFFLE	COMPRESS_BYTE_COUNT	304384
+SHUFFLE	COPY_MAP_DATA	16455000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	984032
+SHUFFLE	COMPRESS_BYTE_COUNT	293026
+SHUFFLE	COPY_MAP_DATA	67622000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	991398
+SHUFFLE	COMPRESS_BYTE_COUNT	299392
+SHUFFLE	COPY_MAP_DATA	17336000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	982762
+SHUFFLE	COMPRESS_BYTE_COUNT	290578
+SHUFFLE	COPY_MAP_DATA	16709000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1022900
+SHUFFLE	COMPRESS_BYTE_COUNT	282653
+SHUFFLE	COPY_MAP_DATA	63857000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	964646
+SHUFFLE	COMPRESS_BYTE_COUNT	290962
+SHUFFLE	COPY_MAP_DATA	215979000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	940658
+SHUFFLE	COMPRESS_BYTE_COUNT	287937
+SHUFFLE	COPY_MAP_DATA	96289000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	966150
+SHUFFLE	COMPRESS_BYTE_COUNT	300265
+SHUFFLE	COPY_MAP_DATA	517304000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	948328
+SHUFFLE	COMPRESS_BYTE_COUNT	292269
+SHUFFLE	COPY_MAP_DATA	33090000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	979847
+SHUFFLE	COMPRESS_BYTE_COUNT	270580
+SHUFFLE	COPY_MAP_DATA	15324000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	949051
+SHUFFLE	COMPRESS_BYTE_COUNT	293751
+SHUFFLE	COPY_MAP_DATA	15576000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	981493
+SHUFFLE	COMPRESS_BYTE_COUNT	291682
+SHUFFLE	COPY_MAP_DATA	152124000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	930357
+SHUFFLE	COMPRESS_BYTE_COUNT	284869
+SHUFFLE	COPY_MAP_DATA	15757000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1000283
+SHUFFLE	COMPRESS_BYTE_COUNT	300227
+SHUFFLE	COPY_MAP_DATA	15218000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	948693
+SHUFFLE	COMPRESS_BYTE_COUNT	297323
+SHUFFLE	COPY_MAP_DATA	26841000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	960074
+SHUFFLE	COMPRESS_BYTE_COUNT	297042
+SHUFFLE	COPY_MAP_DATA	14789000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	957174
+SHUFFLE	COMPRESS_BYTE_COUNT	287494
+SHUFFLE	COPY_MAP_DATA	109573000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	943630
+SHUFFLE	COMPRESS_BYTE_COUNT	288189
+SHUFFLE	COPY_MAP_DATA	319949000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1038643
+SHUFFLE	COMPRESS_BYTE_COUNT	296168
+SHUFFLE	COPY_MAP_DATA	1076942000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	942349
+SHUFFLE	COMPRESS_BYTE_COUNT	289737
+SHUFFLE	COPY_MAP_DATA	270557000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	970498
+SHUFFLE	COMPRESS_BYTE_COUNT	296976
+SHUFFLE	COPY_MAP_DATA	46107000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	985141
+SHUFFLE	COMPRESS_BYTE_COUNT	297675
+SHUFFLE	COPY_MAP_DATA	16732000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	945019
+SHUFFLE	COMPRESS_BYTE_COUNT	293259
+SHUFFLE	COPY_MAP_DATA	62637000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	984865
+SHUFFLE	COMPRESS_BYTE_COUNT	292361
+SHUFFLE	COPY_MAP_DATA	297415000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	894183
+SHUFFLE	COMPRESS_BYTE_COUNT	280022
+SHUFFLE	COPY_MAP_DATA	39850000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	990568
+SHUFFLE	COMPRESS_BYTE_COUNT	299858
+SHUFFLE	COPY_MAP_DATA	522785000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	913510
+SHUFFLE	COMPRESS_BYTE_COUNT	283341
+SHUFFLE	COPY_MAP_DATA	35199000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	965076
+SHUFFLE	COMPRESS_BYTE_COUNT	289525
+SHUFFLE	COPY_MAP_DATA	18332000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	967224
+SHUFFLE	COMPRESS_BYTE_COUNT	301583
+SHUFFLE	COPY_MAP_DATA	25977000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1000843
+SHUFFLE	COMPRESS_BYTE_COUNT	296316
+SHUFFLE	COPY_MAP_DATA	20334000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	875880
+SHUFFLE	COMPRESS_BYTE_COUNT	275584
+SHUFFLE	COPY_MAP_DATA	303924000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	880873
+SHUFFLE	COMPRESS_BYTE_COUNT	275084
+SHUFFLE	COPY_MAP_DATA	24893000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	873029
+SHUFFLE	COMPRESS_BYTE_COUNT	275267
+SHUFFLE	COPY_MAP_DATA	83261000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	935720
+SHUFFLE	COMPRESS_BYTE_COUNT	289405
+SHUFFLE	COPY_MAP_DATA	16631000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	908928
+SHUFFLE	COMPRESS_BYTE_COUNT	277796
+SHUFFLE	COPY_MAP_DATA	16154000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	905915
+SHUFFLE	COMPRESS_BYTE_COUNT	279971
+SHUFFLE	COPY_MAP_DATA	16852000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	965315
+SHUFFLE	COMPRESS_BYTE_COUNT	293239
+SHUFFLE	COPY_MAP_DATA	20040000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	947290
+SHUFFLE	COMPRESS_BYTE_COUNT	293118
+SHUFFLE	COPY_MAP_DATA	152600000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	900725
+SHUFFLE	COMPRESS_BYTE_COUNT	275916
+SHUFFLE	COPY_MAP_DATA	14796000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	957509
+SHUFFLE	COMPRESS_BYTE_COUNT	295506
+SHUFFLE	COPY_MAP_DATA	15669000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	898028
+SHUFFLE	COMPRESS_BYTE_COUNT	286898
+SHUFFLE	COPY_MAP_DATA	98569000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	923709
+SHUFFLE	COMPRESS_BYTE_COUNT	279133
+SHUFFLE	COPY_MAP_DATA	15752000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	873476
+SHUFFLE	COMPRESS_BYTE_COUNT	279324
+SHUFFLE	COPY_MAP_DATA	15642000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	896624
+SHUFFLE	COMPRESS_BYTE_COUNT	284604
+SHUFFLE	COPY_MAP_DATA	15850000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	910984
+SHUFFLE	COMPRESS_BYTE_COUNT	281952
+SHUFFLE	COPY_MAP_DATA	7034926000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	961306
+SHUFFLE	COMPRESS_BYTE_COUNT	295265
+SHUFFLE	COPY_MAP_DATA	40634000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	873588
+SHUFFLE	COMPRESS_BYTE_COUNT	281096
+SHUFFLE	COPY_MAP_DATA	34646000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	927904
+SHUFFLE	COMPRESS_BYTE_COUNT	283252
+SHUFFLE	COPY_MAP_DATA	536174000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	847315
+SHUFFLE	COMPRESS_BYTE_COUNT	268712
+SHUFFLE	COPY_MAP_DATA	25776000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	931983
+SHUFFLE	COMPRESS_BYTE_COUNT	275541
+SHUFFLE	COPY_MAP_DATA	92463000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	879880
+SHUFFLE	COMPRESS_BYTE_COUNT	257627
+SHUFFLE	COPY_MAP_DATA	538995000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	836572
+SHUFFLE	COMPRESS_BYTE_COUNT	267101
+SHUFFLE	COPY_MAP_DATA	15725000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	899548
+SHUFFLE	COMPRESS_BYTE_COUNT	280819
+SHUFFLE	COPY_MAP_DATA	15173000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	961599
+SHUFFLE	COMPRESS_BYTE_COUNT	291213
+SHUFFLE	COPY_MAP_DATA	16665000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	820989
+SHUFFLE	COMPRESS_BYTE_COUNT	251397
+SHUFFLE	COPY_MAP_DATA	14978000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	885171
+SHUFFLE	COMPRESS_BYTE_COUNT	272893
+SHUFFLE	COPY_MAP_DATA	1980735000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	850703
+SHUFFLE	COMPRESS_BYTE_COUNT	267985
+SHUFFLE	COPY_MAP_DATA	146015000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	888448
+SHUFFLE	COMPRESS_BYTE_COUNT	274227
+SHUFFLE	COPY_MAP_DATA	59847000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	946300
+SHUFFLE	COMPRESS_BYTE_COUNT	293407
+SHUFFLE	COPY_MAP_DATA	1573491000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	856640
+SHUFFLE	COMPRESS_BYTE_COUNT	254605
+SHUFFLE	COPY_MAP_DATA	14865000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	861881
+SHUFFLE	COMPRESS_BYTE_COUNT	275177
+SHUFFLE	COPY_MAP_DATA	284195000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	917724
+SHUFFLE	COMPRESS_BYTE_COUNT	285766
+SHUFFLE	COPY_MAP_DATA	15484000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	868123
+SHUFFLE	COMPRESS_BYTE_COUNT	258762
+SHUFFLE	COPY_MAP_DATA	24486000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	832175
+SHUFFLE	COMPRESS_BYTE_COUNT	266087
+SHUFFLE	COPY_MAP_DATA	86349000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	794096
+SHUFFLE	COMPRESS_BYTE_COUNT	246490
+SHUFFLE	COPY_MAP_DATA	15071000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	796029
+SHUFFLE	COMPRESS_BYTE_COUNT	244176
+SHUFFLE	COPY_MAP_DATA	119106000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1009466
+SHUFFLE	COMPRESS_BYTE_COUNT	287196
+SHUFFLE	COPY_MAP_DATA	16899000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	862157
+SHUFFLE	COMPRESS_BYTE_COUNT	256422
+SHUFFLE	COPY_MAP_DATA	15049000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	863908
+SHUFFLE	COMPRESS_BYTE_COUNT	267126
+SHUFFLE	COPY_MAP_DATA	3206624000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	977544
+SHUFFLE	COMPRESS_BYTE_COUNT	289845
+SHUFFLE	COPY_MAP_DATA	17310000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	824858
+SHUFFLE	COMPRESS_BYTE_COUNT	250730
+SHUFFLE	COPY_MAP_DATA	14933000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	827877
+SHUFFLE	COMPRESS_BYTE_COUNT	251999
+SHUFFLE	COPY_MAP_DATA	15067000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	865527
+SHUFFLE	COMPRESS_BYTE_COUNT	271433
+SHUFFLE	COPY_MAP_DATA	26257000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	851083
+SHUFFLE	COMPRESS_BYTE_COUNT	261807
+SHUFFLE	COPY_MAP_DATA	14546000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	893094
+SHUFFLE	COMPRESS_BYTE_COUNT	265167
+SHUFFLE	COPY_MAP_DATA	16177000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	782374
+SHUFFLE	COMPRESS_BYTE_COUNT	244282
+SHUFFLE	COPY_MAP_DATA	13632000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	825907
+SHUFFLE	COMPRESS_BYTE_COUNT	243636
+SHUFFLE	COPY_MAP_DATA	27896000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	849282
+SHUFFLE	COMPRESS_BYTE_COUNT	258276
+SHUFFLE	COPY_MAP_DATA	53552000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	891962
+SHUFFLE	COMPRESS_BYTE_COUNT	266805
+SHUFFLE	COPY_MAP_DATA	342524000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	755311
+SHUFFLE	COMPRESS_BYTE_COUNT	237112
+SHUFFLE	COPY_MAP_DATA	68074000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	692284
+SHUFFLE	COMPRESS_BYTE_COUNT	195702
+SHUFFLE	COPY_MAP_DATA	394367000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	980935
+SHUFFLE	COMPRESS_BYTE_COUNT	284284
+SHUFFLE	COPY_MAP_DATA	522958000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	820918
+SHUFFLE	COMPRESS_BYTE_COUNT	251768
+SHUFFLE	COPY_MAP_DATA	161535000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	812204
+SHUFFLE	COMPRESS_BYTE_COUNT	239081
+SHUFFLE	COPY_MAP_DATA	1086906000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	811463
+SHUFFLE	COMPRESS_BYTE_COUNT	251005
+SHUFFLE	COPY_MAP_DATA	14366000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	916597
+SHUFFLE	COMPRESS_BYTE_COUNT	259930
+SHUFFLE	COPY_MAP_DATA	14391000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	746354
+SHUFFLE	COMPRESS_BYTE_COUNT	234253
+SHUFFLE	COPY_MAP_DATA	16690000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	783264
+SHUFFLE	COMPRESS_BYTE_COUNT	238373
+SHUFFLE	COPY_MAP_DATA	204933000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	833233
+SHUFFLE	COMPRESS_BYTE_COUNT	254848
+SHUFFLE	COPY_MAP_DATA	707330000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	800607
+SHUFFLE	COMPRESS_BYTE_COUNT	240158
+SHUFFLE	COPY_MAP_DATA	77532000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	832397
+SHUFFLE	COMPRESS_BYTE_COUNT	251107
+SHUFFLE	COPY_MAP_DATA	196562000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	840023
+SHUFFLE	COMPRESS_BYTE_COUNT	255355
+SHUFFLE	COPY_MAP_DATA	378289000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	804160
+SHUFFLE	COMPRESS_BYTE_COUNT	241895
+SHUFFLE	COPY_MAP_DATA	30191000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	782043
+SHUFFLE	COMPRESS_BYTE_COUNT	244089
+SHUFFLE	COPY_MAP_DATA	33821000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	765964
+SHUFFLE	COMPRESS_BYTE_COUNT	232345
+SHUFFLE	COPY_MAP_DATA	14228000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	966449
+SHUFFLE	COMPRESS_BYTE_COUNT	281027
+SHUFFLE	COPY_MAP_DATA	15872000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	791848
+SHUFFLE	COMPRESS_BYTE_COUNT	238843
+SHUFFLE	COPY_MAP_DATA	14290000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	841335
+SHUFFLE	COMPRESS_BYTE_COUNT	251764
+SHUFFLE	COPY_MAP_DATA	758063000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	845467
+SHUFFLE	COMPRESS_BYTE_COUNT	261736
+SHUFFLE	COPY_MAP_DATA	14134000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	871574
+SHUFFLE	COMPRESS_BYTE_COUNT	264734
+SHUFFLE	COPY_MAP_DATA	51930000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	844721
+SHUFFLE	COMPRESS_BYTE_COUNT	253664
+SHUFFLE	COPY_MAP_DATA	19245000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	853788
+SHUFFLE	COMPRESS_BYTE_COUNT	233020
+SHUFFLE	COPY_MAP_DATA	928595000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1153414
+SHUFFLE	COMPRESS_BYTE_COUNT	362845
+SHUFFLE	COPY_MAP_DATA	21109000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	757656
+SHUFFLE	COMPRESS_BYTE_COUNT	234189
+SHUFFLE	COPY_MAP_DATA	35134000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	793749
+SHUFFLE	COMPRESS_BYTE_COUNT	238641
+SHUFFLE	COPY_MAP_DATA	15151000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	801103
+SHUFFLE	COMPRESS_BYTE_COUNT	234751
+SHUFFLE	COPY_MAP_DATA	13334000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	784994
+SHUFFLE	COMPRESS_BYTE_COUNT	242508
+SHUFFLE	COPY_MAP_DATA	102107000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	741847
+SHUFFLE	COMPRESS_BYTE_COUNT	229148
+SHUFFLE	COPY_MAP_DATA	160086000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	783090
+SHUFFLE	COMPRESS_BYTE_COUNT	238695
+SHUFFLE	COPY_MAP_DATA	223975000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	846236
+SHUFFLE	COMPRESS_BYTE_COUNT	256832
+SHUFFLE	COPY_MAP_DATA	34549000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	874158
+SHUFFLE	COMPRESS_BYTE_COUNT	260520
+SHUFFLE	COPY_MAP_DATA	225676000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	764635
+SHUFFLE	COMPRESS_BYTE_COUNT	233019
+SHUFFLE	COPY_MAP_DATA	14493000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	807816
+SHUFFLE	COMPRESS_BYTE_COUNT	243846
+SHUFFLE	COPY_MAP_DATA	539119000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	858032
+SHUFFLE	COMPRESS_BYTE_COUNT	267538
+SHUFFLE	COPY_MAP_DATA	38850000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	745219
+SHUFFLE	COMPRESS_BYTE_COUNT	224332
+SHUFFLE	COPY_MAP_DATA	12140000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	803546
+SHUFFLE	COMPRESS_BYTE_COUNT	234881
+SHUFFLE	COPY_MAP_DATA	68317000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	902401
+SHUFFLE	COMPRESS_BYTE_COUNT	276091
+SHUFFLE	COPY_MAP_DATA	1993230000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	773840
+SHUFFLE	COMPRESS_BYTE_COUNT	238698
+SHUFFLE	COPY_MAP_DATA	15671000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	758841
+SHUFFLE	COMPRESS_BYTE_COUNT	235491
+SHUFFLE	COPY_MAP_DATA	1093226000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	753901
+SHUFFLE	COMPRESS_BYTE_COUNT	235982
+SHUFFLE	COPY_MAP_DATA	14379000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	788838
+SHUFFLE	COMPRESS_BYTE_COUNT	239533
+SHUFFLE	COPY_MAP_DATA	180320000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	793060
+SHUFFLE	COMPRESS_BYTE_COUNT	238145
+SHUFFLE	COPY_MAP_DATA	27433000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	741504
+SHUFFLE	COMPRESS_BYTE_COUNT	224609
+SHUFFLE	COPY_MAP_DATA	21307000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	788091
+SHUFFLE	COMPRESS_BYTE_COUNT	229529
+SHUFFLE	COPY_MAP_DATA	876707000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	805441
+SHUFFLE	COMPRESS_BYTE_COUNT	234968
+SHUFFLE	COPY_MAP_DATA	13627000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	776318
+SHUFFLE	COMPRESS_BYTE_COUNT	232398
+SHUFFLE	COPY_MAP_DATA	14516000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1073167
+SHUFFLE	COMPRESS_BYTE_COUNT	345554
+SHUFFLE	COPY_MAP_DATA	19124000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	837523
+SHUFFLE	COMPRESS_BYTE_COUNT	232334
+SHUFFLE	COPY_MAP_DATA	322697000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	823637
+SHUFFLE	COMPRESS_BYTE_COUNT	249248
+SHUFFLE	COPY_MAP_DATA	14702000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	847322
+SHUFFLE	COMPRESS_BYTE_COUNT	258102
+SHUFFLE	COPY_MAP_DATA	15784000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	797402
+SHUFFLE	COMPRESS_BYTE_COUNT	236691
+SHUFFLE	COPY_MAP_DATA	410776000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	828507
+SHUFFLE	COMPRESS_BYTE_COUNT	239517
+SHUFFLE	COPY_MAP_DATA	14577000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	835046
+SHUFFLE	COMPRESS_BYTE_COUNT	250082
+SHUFFLE	COPY_MAP_DATA	14908000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	872443
+SHUFFLE	COMPRESS_BYTE_COUNT	260593
+SHUFFLE	COPY_MAP_DATA	41767000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	850666
+SHUFFLE	COMPRESS_BYTE_COUNT	260681
+SHUFFLE	COPY_MAP_DATA	13981000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	784755
+SHUFFLE	COMPRESS_BYTE_COUNT	233632
+SHUFFLE	COPY_MAP_DATA	16531000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	895632
+SHUFFLE	COMPRESS_BYTE_COUNT	264430
+SHUFFLE	COPY_MAP_DATA	15253000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	745297
+SHUFFLE	COMPRESS_BYTE_COUNT	228331
+SHUFFLE	COPY_MAP_DATA	12735000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	753365
+SHUFFLE	COMPRESS_BYTE_COUNT	229859
+SHUFFLE	COPY_MAP_DATA	12557000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	914438
+SHUFFLE	COMPRESS_BYTE_COUNT	259861
+SHUFFLE	COPY_MAP_DATA	15523000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	787528
+SHUFFLE	COMPRESS_BYTE_COUNT	243087
+SHUFFLE	COPY_MAP_DATA	114284000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	756330
+SHUFFLE	COMPRESS_BYTE_COUNT	235003
+SHUFFLE	COPY_MAP_DATA	221406000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	759866
+SHUFFLE	COMPRESS_BYTE_COUNT	233852
+SHUFFLE	COPY_MAP_DATA	14413000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	893162
+SHUFFLE	COMPRESS_BYTE_COUNT	266971
+SHUFFLE	COPY_MAP_DATA	17537000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	778117
+SHUFFLE	COMPRESS_BYTE_COUNT	241162
+SHUFFLE	COPY_MAP_DATA	398239000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	974779
+SHUFFLE	COMPRESS_BYTE_COUNT	259472
+SHUFFLE	COPY_MAP_DATA	148338000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	892268
+SHUFFLE	COMPRESS_BYTE_COUNT	260974
+SHUFFLE	COPY_MAP_DATA	15398000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	791202
+SHUFFLE	COMPRESS_BYTE_COUNT	239383
+SHUFFLE	COPY_MAP_DATA	8058797000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	762361
+SHUFFLE	COMPRESS_BYTE_COUNT	233895
+SHUFFLE	COPY_MAP_DATA	13721000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	984463
+SHUFFLE	COMPRESS_BYTE_COUNT	308375
+SHUFFLE	COPY_MAP_DATA	25405000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	732675
+SHUFFLE	COMPRESS_BYTE_COUNT	224648
+SHUFFLE	COPY_MAP_DATA	826903000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	776846
+SHUFFLE	COMPRESS_BYTE_COUNT	236752
+SHUFFLE	COPY_MAP_DATA	14895000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	717190
+SHUFFLE	COMPRESS_BYTE_COUNT	220457
+SHUFFLE	COPY_MAP_DATA	184009000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	745297
+SHUFFLE	COMPRESS_BYTE_COUNT	228331
+SHUFFLE	COPY_MAP_DATA	145819000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	681065
+SHUFFLE	COMPRESS_BYTE_COUNT	206785
+SHUFFLE	COPY_MAP_DATA	13119000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	582888
+SHUFFLE	COMPRESS_BYTE_COUNT	158934
+SHUFFLE	COPY_MAP_DATA	11311000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	733994
+SHUFFLE	COMPRESS_BYTE_COUNT	230772
+SHUFFLE	COPY_MAP_DATA	16136000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	778209
+SHUFFLE	COMPRESS_BYTE_COUNT	228039
+SHUFFLE	COPY_MAP_DATA	21467000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	819442
+SHUFFLE	COMPRESS_BYTE_COUNT	250684
+SHUFFLE	COPY_MAP_DATA	16062000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	758981
+SHUFFLE	COMPRESS_BYTE_COUNT	236512
+SHUFFLE	COPY_MAP_DATA	12608000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	766050
+SHUFFLE	COMPRESS_BYTE_COUNT	230511
+SHUFFLE	COPY_MAP_DATA	28398000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	858843
+SHUFFLE	COMPRESS_BYTE_COUNT	250831
+SHUFFLE	COPY_MAP_DATA	13922000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1027398
+SHUFFLE	COMPRESS_BYTE_COUNT	275924
+SHUFFLE	COPY_MAP_DATA	15297000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	956694
+SHUFFLE	COMPRESS_BYTE_COUNT	287602
+SHUFFLE	COPY_MAP_DATA	24581000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1027404
+SHUFFLE	COMPRESS_BYTE_COUNT	252102
+SHUFFLE	COPY_MAP_DATA	13745000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	717369
+SHUFFLE	COMPRESS_BYTE_COUNT	217052
+SHUFFLE	COPY_MAP_DATA	100053000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1357327
+SHUFFLE	COMPRESS_BYTE_COUNT	275385
+SHUFFLE	COPY_MAP_DATA	16933000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	705175
+SHUFFLE	COMPRESS_BYTE_COUNT	217217
+SHUFFLE	COPY_MAP_DATA	13367000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	585937
+SHUFFLE	COMPRESS_BYTE_COUNT	120507
+SHUFFLE	COPY_MAP_DATA	8520000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	655400
+SHUFFLE	COMPRESS_BYTE_COUNT	202924
+SHUFFLE	COPY_MAP_DATA	36454000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	805817
+SHUFFLE	COMPRESS_BYTE_COUNT	247777
+SHUFFLE	COPY_MAP_DATA	24412000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	937889
+SHUFFLE	COMPRESS_BYTE_COUNT	294970
+SHUFFLE	COPY_MAP_DATA	25759000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	974904
+SHUFFLE	COMPRESS_BYTE_COUNT	315603
+SHUFFLE	COPY_MAP_DATA	28124000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	787116
+SHUFFLE	COMPRESS_BYTE_COUNT	232366
+SHUFFLE	COPY_MAP_DATA	13006000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	798678
+SHUFFLE	COMPRESS_BYTE_COUNT	249267
+SHUFFLE	COPY_MAP_DATA	21778000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	172976562000
+MERGE	READ_WRITE	169649148000
+MERGE	READ_WRITE_COUNT	2
+MERGE	COMBINE	0
+MERGE	WRITE	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	35588665000
+SORT	READ_WRITE	35481223000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	130928608
+REDUCE	SETUP	292000
+REDUCE	SETUP_MEM	130928608
+REDUCE	CLEANUP	33000
+REDUCE	CLEANUP_MEM	197696432
+REDUCE	TOTAL_RUN	91235736000
+REDUCE	READ	7754016000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	77590691000
+REDUCE	WRITE	26011665000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	71362717
+REDUCE	VALUE_BYTE_COUNT	64820059
+REDUCE	REDUCE_MEM	197698480
+REDUCE	WRITE	11437000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	745716592301
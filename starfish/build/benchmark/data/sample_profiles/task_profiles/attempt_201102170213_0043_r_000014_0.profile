@@ -0,0 +1,1333 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1808601
+SHUFFLE	COMPRESS_BYTE_COUNT	544447
+SHUFFLE	COPY_MAP_DATA	137727000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1937939
+SHUFFLE	COMPRESS_BYTE_COUNT	571905
+SHUFFLE	COPY_MAP_DATA	124242000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1940382
+SHUFFLE	COMPRESS_BYTE_COUNT	527785
+SHUFFLE	COPY_MAP_DATA	34905000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2130313
+SHUFFLE	COMPRESS_BYTE_COUNT	585159
+SHUFFLE	COPY_MAP_DATA	129727000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1872870
+SHUFFLE	COMPRESS_BYTE_COUNT	554257
+SHUFFLE	COPY_MAP_DATA	257861000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1935897
+SHUFFLE	COMPRESS_BYTE_COUNT	554451
+SHUFFLE	COPY_MAP_DATA	34696000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1920626
+SHUFFLE	COMPRESS_BYTE_COUNT	548914
+SHUFFLE	COPY_MAP_DATA	67391000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1878989
+SHUFFLE	COMPRESS_BYTE_COUNT	546280
+SHUFFLE	COPY_MAP_DATA	98936000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1631037
+SHUFFLE	COMPRESS_BYTE_COUNT	459293
+SHUFFLE	COPY_MAP_DATA	27729000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1789003
+SHUFFLE	COMPRESS_BYTE_COUNT	463430
+SHUFFLE	COPY_MAP_DATA	32190000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1873908
+SHUFFLE	COMPRESS_BYTE_COUNT	543669
+SHUFFLE	COPY_MAP_DATA	192964000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1875700
+SHUFFLE	COMPRESS_BYTE_COUNT	549496
+SHUFFLE	COPY_MAP_DATA	717041000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1963636
+SHUFFLE	COMPRESS_BYTE_COUNT	570734
+SHUFFLE	COPY_MAP_DATA	93130000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1815458
+SHUFFLE	COMPRESS_BYTE_COUNT	542538
+SHUFFLE	COPY_MAP_DATA	57266000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1889302
+SHUFFLE	COMPRESS_BYTE_COUNT	556591
+SHUFFLE	COPY_MAP_DATA	109333000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1905519
+SHUFFLE	COMPRESS_BYTE_COUNT	559669
+SHUFFLE	COPY_MAP_DATA	160361000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2018548
+SHUFFLE	COMPRESS_BYTE_COUNT	544503
+SHUFFLE	COPY_MAP_DATA	30687000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1953061
+SHUFFLE	COMPRESS_BYTE_COUNT	566374
+SHUFFLE	COPY_MAP_DATA	39650000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1884801
+SHUFFLE	COMPRESS_BYTE_COUNT	564724
+SHUFFLE	COPY_MAP_DATA	33839000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1990465
+SHUFFLE	COMPRESS_BYTE_COUNT	566242
+SHUFFLE	COPY_MAP_DATA	46671000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1790207
+SHUFFLE	COMPRESS_BYTE_COUNT	482140
+SHUFFLE	COPY_MAP_DATA	27547000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2031518
+SHUFFLE	COMPRESS_BYTE_COUNT	554824
+SHUFFLE	COPY_MAP_DATA	34721000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2051957
+SHUFFLE	COMPRESS_BYTE_COUNT	545238
+SHUFFLE	COPY_MAP_DATA	100894000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1902272
+SHUFFLE	COMPRESS_BYTE_COUNT	562460
+SHUFFLE	COPY_MAP_DATA	28573000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1905938
+SHUFFLE	COMPRESS_BYTE_COUNT	557512
+SHUFFLE	COPY_MAP_DATA	118244000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1941055
+SHUFFLE	COMPRESS_BYTE_COUNT	554756
+SHUFFLE	COPY_MAP_DATA	57670000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1955143
+SHUFFLE	COMPRESS_BYTE_COUNT	546851
+SHUFFLE	COPY_MAP_DATA	32665000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1964424
+SHUFFLE	COMPRESS_BYTE_COUNT	542414
+SHUFFLE	COPY_MAP_DATA	316126000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2041521
+SHUFFLE	COMPRESS_BYTE_COUNT	551511
+SHUFFLE	COPY_MAP_DATA	37359000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2075324
+SHUFFLE	COMPRESS_BYTE_COUNT	571830
+SHUFFLE	COPY_MAP_DATA	32107000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1843260
+SHUFFLE	COMPRESS_BYTE_COUNT	553278
+SHUFFLE	COPY_MAP_DATA	36752000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1784738
+SHUFFLE	COMPRESS_BYTE_COUNT	530149
+SHUFFLE	COPY_MAP_DATA	29151000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1687719
+SHUFFLE	COMPRESS_BYTE_COUNT	517520
+SHUFFLE	COPY_MAP_DATA	46927000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1860759
+SHUFFLE	COMPRESS_BYTE_COUNT	549604
+SHUFFLE	COPY_MAP_DATA	30676000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1925578
+SHUFFLE	COMPRESS_BYTE_COUNT	560070
+SHUFFLE	COPY_MAP_DATA	31745000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1816025
+SHUFFLE	COMPRESS_BYTE_COUNT	542720
+SHUFFLE	COPY_MAP_DATA	29505000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1748697
+SHUFFLE	COMPRESS_BYTE_COUNT	537795
+SHUFFLE	COPY_MAP_DATA	29774000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1802185
+SHUFFLE	COMPRESS_BYTE_COUNT	529752
+SHUFFLE	COPY_MAP_DATA	137279000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1806406
+SHUFFLE	COMPRESS_BYTE_COUNT	549314
+SHUFFLE	COPY_MAP_DATA	81373000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2063872
+SHUFFLE	COMPRESS_BYTE_COUNT	451589
+SHUFFLE	COPY_MAP_DATA	26448000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1878718
+SHUFFLE	COMPRESS_BYTE_COUNT	551769
+SHUFFLE	COPY_MAP_DATA	3133492000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1636062
+SHUFFLE	COMPRESS_BYTE_COUNT	477980
+SHUFFLE	COPY_MAP_DATA	27224000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1655895
+SHUFFLE	COMPRESS_BYTE_COUNT	518854
+SHUFFLE	COPY_MAP_DATA	88620000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1635772
+SHUFFLE	COMPRESS_BYTE_COUNT	487093
+SHUFFLE	COPY_MAP_DATA	33165000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1859849
+SHUFFLE	COMPRESS_BYTE_COUNT	553865
+SHUFFLE	COPY_MAP_DATA	49552000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1761633
+SHUFFLE	COMPRESS_BYTE_COUNT	528846
+SHUFFLE	COPY_MAP_DATA	570844000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1490344
+SHUFFLE	COMPRESS_BYTE_COUNT	446620
+SHUFFLE	COPY_MAP_DATA	112003000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1934781
+SHUFFLE	COMPRESS_BYTE_COUNT	564029
+SHUFFLE	COPY_MAP_DATA	30800000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1653500
+SHUFFLE	COMPRESS_BYTE_COUNT	481966
+SHUFFLE	COPY_MAP_DATA	56810000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1797731
+SHUFFLE	COMPRESS_BYTE_COUNT	520930
+SHUFFLE	COPY_MAP_DATA	582786000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1706269
+SHUFFLE	COMPRESS_BYTE_COUNT	494635
+SHUFFLE	COPY_MAP_DATA	52539000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1756873
+SHUFFLE	COMPRESS_BYTE_COUNT	535323
+SHUFFLE	COPY_MAP_DATA	126845000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1793110
+SHUFFLE	COMPRESS_BYTE_COUNT	544135
+SHUFFLE	COPY_MAP_DATA	42605000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1736083
+SHUFFLE	COMPRESS_BYTE_COUNT	493720
+SHUFFLE	COPY_MAP_DATA	38450000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1763022
+SHUFFLE	COMPRESS_BYTE_COUNT	522774
+SHUFFLE	COPY_MAP_DATA	132279000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1739554
+SHUFFLE	COMPRESS_BYTE_COUNT	533413
+SHUFFLE	COPY_MAP_DATA	28961000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1894539
+SHUFFLE	COMPRESS_BYTE_COUNT	545327
+SHUFFLE	COPY_MAP_DATA	36392000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1706386
+SHUFFLE	COMPRESS_BYTE_COUNT	518650
+SHUFFLE	COPY_MAP_DATA	244768000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1828882
+SHUFFLE	COMPRESS_BYTE_COUNT	537613
+SHUFFLE	COPY_MAP_DATA	137036000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1704482
+SHUFFLE	COMPRESS_BYTE_COUNT	518312
+SHUFFLE	COPY_MAP_DATA	28225000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1603681
+SHUFFLE	COMPRESS_BYTE_COUNT	474715
+SHUFFLE	COPY_MAP_DATA	35101000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1615660
+SHUFFLE	COMPRESS_BYTE_COUNT	480388
+SHUFFLE	COPY_MAP_DATA	4272841760
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1760969
+SHUFFLE	COMPRESS_BYTE_COUNT	491551
+SHUFFLE	COPY_MAP_DATA	32075000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2090871
+SHUFFLE	COMPRESS_BYTE_COUNT	491488
+SHUFFLE	COPY_MAP_DATA	33141000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1594016
+SHUFFLE	COMPRESS_BYTE_COUNT	470241
+SHUFFLE	COPY_MAP_DATA	60286000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1807194
+SHUFFLE	COMPRESS_BYTE_COUNT	527142
+SHUFFLE	COPY_MAP_DATA	127741000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1549558
+SHUFFLE	COMPRESS_BYTE_COUNT	452794
+SHUFFLE	COPY_MAP_DATA	26360000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1518357
+SHUFFLE	COMPRESS_BYTE_COUNT	448574
+SHUFFLE	COPY_MAP_DATA	26087000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1761718
+SHUFFLE	COMPRESS_BYTE_COUNT	485973
+SHUFFLE	COPY_MAP_DATA	87541000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1474813
+SHUFFLE	COMPRESS_BYTE_COUNT	433128
+SHUFFLE	COPY_MAP_DATA	26153000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1586095
+SHUFFLE	COMPRESS_BYTE_COUNT	466014
+SHUFFLE	COPY_MAP_DATA	287691000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1655871
+SHUFFLE	COMPRESS_BYTE_COUNT	480386
+SHUFFLE	COPY_MAP_DATA	86940000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1606875
+SHUFFLE	COMPRESS_BYTE_COUNT	474222
+SHUFFLE	COPY_MAP_DATA	41897000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1876824
+SHUFFLE	COMPRESS_BYTE_COUNT	577148
+SHUFFLE	COPY_MAP_DATA	48699000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1612097
+SHUFFLE	COMPRESS_BYTE_COUNT	458329
+SHUFFLE	COPY_MAP_DATA	25390000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1583915
+SHUFFLE	COMPRESS_BYTE_COUNT	454055
+SHUFFLE	COPY_MAP_DATA	120339000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1673028
+SHUFFLE	COMPRESS_BYTE_COUNT	482549
+SHUFFLE	COPY_MAP_DATA	27069000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1767923
+SHUFFLE	COMPRESS_BYTE_COUNT	483381
+SHUFFLE	COPY_MAP_DATA	45067000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1602693
+SHUFFLE	COMPRESS_BYTE_COUNT	465784
+SHUFFLE	COPY_MAP_DATA	104079000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1787562
+SHUFFLE	COMPRESS_BYTE_COUNT	520103
+SHUFFLE	COPY_MAP_DATA	859697000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1838614
+SHUFFLE	COMPRESS_BYTE_COUNT	573150
+SHUFFLE	COPY_MAP_DATA	35793000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1572575
+SHUFFLE	COMPRESS_BYTE_COUNT	473322
+SHUFFLE	COPY_MAP_DATA	45059000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1668313
+SHUFFLE	COMPRESS_BYTE_COUNT	481827
+SHUFFLE	COPY_MAP_DATA	28017000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1964850
+SHUFFLE	COMPRESS_BYTE_COUNT	497005
+SHUFFLE	COPY_MAP_DATA	494613000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1801223
+SHUFFLE	COMPRESS_BYTE_COUNT	529738
+SHUFFLE	COPY_MAP_DATA	28210000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1645882
+SHUFFLE	COMPRESS_BYTE_COUNT	477453
+SHUFFLE	COPY_MAP_DATA	3031632000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1737924
+SHUFFLE	COMPRESS_BYTE_COUNT	541046
+SHUFFLE	COPY_MAP_DATA	27782000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	813691
+SHUFFLE	COMPRESS_BYTE_COUNT	230720
+SHUFFLE	COPY_MAP_DATA	15664000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1476546
+SHUFFLE	COMPRESS_BYTE_COUNT	433580
+SHUFFLE	COPY_MAP_DATA	317153000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1422999
+SHUFFLE	COMPRESS_BYTE_COUNT	428100
+SHUFFLE	COPY_MAP_DATA	24173000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1684948
+SHUFFLE	COMPRESS_BYTE_COUNT	465537
+SHUFFLE	COPY_MAP_DATA	126903000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	975314
+SHUFFLE	COMPRESS_BYTE_COUNT	261644
+SHUFFLE	COPY_MAP_DATA	17233000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	862986
+SHUFFLE	COMPRESS_BYTE_COUNT	245889
+SHUFFLE	COPY_MAP_DATA	285722000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	927223
+SHUFFLE	COMPRESS_BYTE_COUNT	264777
+SHUFFLE	COPY_MAP_DATA	22749000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	777361
+SHUFFLE	COMPRESS_BYTE_COUNT	232205
+SHUFFLE	COPY_MAP_DATA	16099000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1008419
+SHUFFLE	COMPRESS_BYTE_COUNT	291517
+SHUFFLE	COPY_MAP_DATA	98413000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	853678
+SHUFFLE	COMPRESS_BYTE_COUNT	243727
+SHUFFLE	COPY_MAP_DATA	39912000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1476795
+SHUFFLE	COMPRESS_BYTE_COUNT	447774
+SHUFFLE	COPY_MAP_DATA	25857000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1594413
+SHUFFLE	COMPRESS_BYTE_COUNT	460089
+SHUFFLE	COPY_MAP_DATA	96087000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1593430
+SHUFFLE	COMPRESS_BYTE_COUNT	466988
+SHUFFLE	COPY_MAP_DATA	58292000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1396069
+SHUFFLE	COMPRESS_BYTE_COUNT	421858
+SHUFFLE	COPY_MAP_DATA	72108000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1639293
+SHUFFLE	COMPRESS_BYTE_COUNT	482792
+SHUFFLE	COPY_MAP_DATA	124104000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1534923
+SHUFFLE	COMPRESS_BYTE_COUNT	456866
+SHUFFLE	COPY_MAP_DATA	26163000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1643738
+SHUFFLE	COMPRESS_BYTE_COUNT	437613
+SHUFFLE	COPY_MAP_DATA	25957000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1054090
+SHUFFLE	COMPRESS_BYTE_COUNT	292746
+SHUFFLE	COPY_MAP_DATA	865713000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1620802
+SHUFFLE	COMPRESS_BYTE_COUNT	449705
+SHUFFLE	COPY_MAP_DATA	116324000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1755531
+SHUFFLE	COMPRESS_BYTE_COUNT	539250
+SHUFFLE	COPY_MAP_DATA	228620000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1501690
+SHUFFLE	COMPRESS_BYTE_COUNT	445290
+SHUFFLE	COPY_MAP_DATA	29102000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	959171
+SHUFFLE	COMPRESS_BYTE_COUNT	282961
+SHUFFLE	COPY_MAP_DATA	17155000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1753417
+SHUFFLE	COMPRESS_BYTE_COUNT	513677
+SHUFFLE	COPY_MAP_DATA	28179000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	970375
+SHUFFLE	COMPRESS_BYTE_COUNT	280718
+SHUFFLE	COPY_MAP_DATA	17490000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1081584
+SHUFFLE	COMPRESS_BYTE_COUNT	295113
+SHUFFLE	COPY_MAP_DATA	18642000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2423347
+SHUFFLE	COMPRESS_BYTE_COUNT	394490
+SHUFFLE	COPY_MAP_DATA	104786000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1633322
+SHUFFLE	COMPRESS_BYTE_COUNT	467642
+SHUFFLE	COPY_MAP_DATA	26717000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	956007
+SHUFFLE	COMPRESS_BYTE_COUNT	282129
+SHUFFLE	COPY_MAP_DATA	36708000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1694803
+SHUFFLE	COMPRESS_BYTE_COUNT	479092
+SHUFFLE	COPY_MAP_DATA	44140000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1578608
+SHUFFLE	COMPRESS_BYTE_COUNT	488308
+SHUFFLE	COPY_MAP_DATA	184576000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	987721
+SHUFFLE	COMPRESS_BYTE_COUNT	289107
+SHUFFLE	COPY_MAP_DATA	18232000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1596488
+SHUFFLE	COMPRESS_BYTE_COUNT	460053
+SHUFFLE	COPY_MAP_DATA	332279000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1771937
+SHUFFLE	COMPRESS_BYTE_COUNT	527694
+SHUFFLE	COPY_MAP_DATA	36687000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	981448
+SHUFFLE	COMPRESS_BYTE_COUNT	289257
+SHUFFLE	COPY_MAP_DATA	16215000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1684951
+SHUFFLE	COMPRESS_BYTE_COUNT	482852
+SHUFFLE	COPY_MAP_DATA	128880000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	940215
+SHUFFLE	COMPRESS_BYTE_COUNT	290222
+SHUFFLE	COPY_MAP_DATA	913529000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1006801
+SHUFFLE	COMPRESS_BYTE_COUNT	299030
+SHUFFLE	COPY_MAP_DATA	62167000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	958464
+SHUFFLE	COMPRESS_BYTE_COUNT	290201
+SHUFFLE	COPY_MAP_DATA	116157000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	959849
+SHUFFLE	COMPRESS_BYTE_COUNT	282508
+SHUFFLE	COPY_MAP_DATA	41131000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	981213
+SHUFFLE	COMPRESS_BYTE_COUNT	271292
+SHUFFLE	COPY_MAP_DATA	33634000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	960202
+SHUFFLE	COMPRESS_BYTE_COUNT	287113
+SHUFFLE	COPY_MAP_DATA	24004000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	987433
+SHUFFLE	COMPRESS_BYTE_COUNT	291279
+SHUFFLE	COPY_MAP_DATA	20314000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	988338
+SHUFFLE	COMPRESS_BYTE_COUNT	298227
+SHUFFLE	COPY_MAP_DATA	19344000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	967424
+SHUFFLE	COMPRESS_BYTE_COUNT	288337
+SHUFFLE	COPY_MAP_DATA	28954000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	975697
+SHUFFLE	COMPRESS_BYTE_COUNT	292871
+SHUFFLE	COPY_MAP_DATA	55513000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	954620
+SHUFFLE	COMPRESS_BYTE_COUNT	286181
+SHUFFLE	COPY_MAP_DATA	41755000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1171851
+SHUFFLE	COMPRESS_BYTE_COUNT	323577
+SHUFFLE	COPY_MAP_DATA	38189000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	953721
+SHUFFLE	COMPRESS_BYTE_COUNT	292625
+SHUFFLE	COPY_MAP_DATA	96087000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	976365
+SHUFFLE	COMPRESS_BYTE_COUNT	294870
+SHUFFLE	COPY_MAP_DATA	134321000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	976314
+SHUFFLE	COMPRESS_BYTE_COUNT	286939
+SHUFFLE	COPY_MAP_DATA	399599000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1055206
+SHUFFLE	COMPRESS_BYTE_COUNT	293064
+SHUFFLE	COPY_MAP_DATA	4135681000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	938776
+SHUFFLE	COMPRESS_BYTE_COUNT	280086
+SHUFFLE	COPY_MAP_DATA	116226000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1009019
+SHUFFLE	COMPRESS_BYTE_COUNT	306020
+SHUFFLE	COPY_MAP_DATA	17390000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	929585
+SHUFFLE	COMPRESS_BYTE_COUNT	285433
+SHUFFLE	COPY_MAP_DATA	43616000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1068525
+SHUFFLE	COMPRESS_BYTE_COUNT	302989
+SHUFFLE	COPY_MAP_DATA	61556000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	976698
+SHUFFLE	COMPRESS_BYTE_COUNT	297699
+SHUFFLE	COPY_MAP_DATA	1185025000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	975300
+SHUFFLE	COMPRESS_BYTE_COUNT	299053
+SHUFFLE	COPY_MAP_DATA	25330000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	974700
+SHUFFLE	COMPRESS_BYTE_COUNT	295874
+SHUFFLE	COPY_MAP_DATA	26772000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	972768
+SHUFFLE	COMPRESS_BYTE_COUNT	295229
+SHUFFLE	COPY_MAP_DATA	323590000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	909531
+SHUFFLE	COMPRESS_BYTE_COUNT	274896
+SHUFFLE	COPY_MAP_DATA	36837000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	916536
+SHUFFLE	COMPRESS_BYTE_COUNT	286153
+SHUFFLE	COPY_MAP_DATA	34817000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	971010
+SHUFFLE	COMPRESS_BYTE_COUNT	297077
+SHUFFLE	COPY_MAP_DATA	16580000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	934973
+SHUFFLE	COMPRESS_BYTE_COUNT	286689
+SHUFFLE	COPY_MAP_DATA	19824000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	963241
+SHUFFLE	COMPRESS_BYTE_COUNT	300858
+SHUFFLE	COPY_MAP_DATA	16489000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	941767
+SHUFFLE	COMPRESS_BYTE_COUNT	288692
+SHUFFLE	COPY_MAP_DATA	72435000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	968419
+SHUFFLE	COMPRESS_BYTE_COUNT	299713
+SHUFFLE	COPY_MAP_DATA	188714000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	932143
+SHUFFLE	COMPRESS_BYTE_COUNT	278165
+SHUFFLE	COPY_MAP_DATA	122327000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	966008
+SHUFFLE	COMPRESS_BYTE_COUNT	290770
+SHUFFLE	COPY_MAP_DATA	17084000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	947409
+SHUFFLE	COMPRESS_BYTE_COUNT	289381
+SHUFFLE	COPY_MAP_DATA	16138000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	918758
+SHUFFLE	COMPRESS_BYTE_COUNT	291357
+SHUFFLE	COPY_MAP_DATA	470498000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1053606
+SHUFFLE	COMPRESS_BYTE_COUNT	271812
+SHUFFLE	COPY_MAP_DATA	16942000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	926361
+SHUFFLE	COMPRESS_BYTE_COUNT	289517
+SHUFFLE	COPY_MAP_DATA	37959000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	938368
+SHUFFLE	COMPRESS_BYTE_COUNT	291434
+SHUFFLE	COPY_MAP_DATA	16112000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1058701
+SHUFFLE	COMPRESS_BYTE_COUNT	288762
+SHUFFLE	COPY_MAP_DATA	16453000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	940335
+SHUFFLE	COMPRESS_BYTE_COUNT	287148
+SHUFFLE	COPY_MAP_DATA	206577000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	931264
+SHUFFLE	COMPRESS_BYTE_COUNT	291869
+SHUFFLE	COPY_MAP_DATA	18010000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	980691
+SHUFFLE	COMPRESS_BYTE_COUNT	289555
+SHUFFLE	COPY_MAP_DATA	190887000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	900106
+SHUFFLE	COMPRESS_BYTE_COUNT	278608
+SHUFFLE	COPY_MAP_DATA	16912000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	981062
+SHUFFLE	COMPRESS_BYTE_COUNT	296873
+SHUFFLE	COPY_MAP_DATA	18880000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	961989
+SHUFFLE	COMPRESS_BYTE_COUNT	292600
+SHUFFLE	COPY_MAP_DATA	29900000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	928293
+SHUFFLE	COMPRESS_BYTE_COUNT	282023
+SHUFFLE	COPY_MAP_DATA	91028000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	960366
+SHUFFLE	COMPRESS_BYTE_COUNT	290610
+SHUFFLE	COPY_MAP_DATA	65625000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	925788
+SHUFFLE	COMPRESS_BYTE_COUNT	285769
+SHUFFLE	COPY_MAP_DATA	40955000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	967153
+SHUFFLE	COMPRESS_BYTE_COUNT	292021
+SHUFFLE	COPY_MAP_DATA	17697000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	897265
+SHUFFLE	COMPRESS_BYTE_COUNT	282064
+SHUFFLE	COPY_MAP_DATA	58200000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	963591
+SHUFFLE	COMPRESS_BYTE_COUNT	292471
+SHUFFLE	COPY_MAP_DATA	18277000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	910038
+SHUFFLE	COMPRESS_BYTE_COUNT	280809
+SHUFFLE	COPY_MAP_DATA	23685000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	919353
+SHUFFLE	COMPRESS_BYTE_COUNT	290032
+SHUFFLE	COPY_MAP_DATA	57389000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	946511
+SHUFFLE	COMPRESS_BYTE_COUNT	286689
+SHUFFLE	COPY_MAP_DATA	55656000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	893617
+SHUFFLE	COMPRESS_BYTE_COUNT	280046
+SHUFFLE	COPY_MAP_DATA	18687000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	916384
+SHUFFLE	COMPRESS_BYTE_COUNT	288524
+SHUFFLE	COPY_MAP_DATA	17179000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	976355
+SHUFFLE	COMPRESS_BYTE_COUNT	296367
+SHUFFLE	COPY_MAP_DATA	41238000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	905422
+SHUFFLE	COMPRESS_BYTE_COUNT	284392
+SHUFFLE	COPY_MAP_DATA	36623000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	959846
+SHUFFLE	COMPRESS_BYTE_COUNT	296410
+SHUFFLE	COPY_MAP_DATA	34575000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	906679
+SHUFFLE	COMPRESS_BYTE_COUNT	284395
+SHUFFLE	COPY_MAP_DATA	123662000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	887490
+SHUFFLE	COMPRESS_BYTE_COUNT	278056
+SHUFFLE	COPY_MAP_DATA	17119000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	862348
+SHUFFLE	COMPRESS_BYTE_COUNT	271619
+SHUFFLE	COPY_MAP_DATA	32732000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	916458
+SHUFFLE	COMPRESS_BYTE_COUNT	285673
+SHUFFLE	COPY_MAP_DATA	20679000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	874354
+SHUFFLE	COMPRESS_BYTE_COUNT	274138
+SHUFFLE	COPY_MAP_DATA	16232000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	938385
+SHUFFLE	COMPRESS_BYTE_COUNT	287491
+SHUFFLE	COPY_MAP_DATA	20535000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	884634
+SHUFFLE	COMPRESS_BYTE_COUNT	272654
+SHUFFLE	COPY_MAP_DATA	16487000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	869957
+SHUFFLE	COMPRESS_BYTE_COUNT	273995
+SHUFFLE	COPY_MAP_DATA	33306000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	877648
+SHUFFLE	COMPRESS_BYTE_COUNT	283532
+SHUFFLE	COPY_MAP_DATA	16205000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	943393
+SHUFFLE	COMPRESS_BYTE_COUNT	291245
+SHUFFLE	COPY_MAP_DATA	98392000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	854956
+SHUFFLE	COMPRESS_BYTE_COUNT	266120
+SHUFFLE	COPY_MAP_DATA	15231000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	909143
+SHUFFLE	COMPRESS_BYTE_COUNT	290594
+SHUFFLE	COPY_MAP_DATA	64895000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	858892
+SHUFFLE	COMPRESS_BYTE_COUNT	275739
+SHUFFLE	COPY_MAP_DATA	16153000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	949645
+SHUFFLE	COMPRESS_BYTE_COUNT	293812
+SHUFFLE	COPY_MAP_DATA	28232000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	879227
+SHUFFLE	COMPRESS_BYTE_COUNT	273724
+SHUFFLE	COPY_MAP_DATA	48934000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	876197
+SHUFFLE	COMPRESS_BYTE_COUNT	280264
+SHUFFLE	COPY_MAP_DATA	125059000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	876391
+SHUFFLE	COMPRESS_BYTE_COUNT	280880
+SHUFFLE	COPY_MAP_DATA	43233000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	907498
+SHUFFLE	COMPRESS_BYTE_COUNT	278745
+SHUFFLE	COPY_MAP_DATA	18710000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	922165
+SHUFFLE	COMPRESS_BYTE_COUNT	273714
+SHUFFLE	COPY_MAP_DATA	2394571000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	856181
+SHUFFLE	COMPRESS_BYTE_COUNT	267408
+SHUFFLE	COPY_MAP_DATA	190931000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	853544
+SHUFFLE	COMPRESS_BYTE_COUNT	252260
+SHUFFLE	COPY_MAP_DATA	159458000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	836431
+SHUFFLE	COMPRESS_BYTE_COUNT	265549
+SHUFFLE	COPY_MAP_DATA	83120000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	851889
+SHUFFLE	COMPRESS_BYTE_COUNT	270371
+SHUFFLE	COPY_MAP_DATA	16226000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	817031
+SHUFFLE	COMPRESS_BYTE_COUNT	251168
+SHUFFLE	COPY_MAP_DATA	33396000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	872308
+SHUFFLE	COMPRESS_BYTE_COUNT	277769
+SHUFFLE	COPY_MAP_DATA	126449000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	828829
+SHUFFLE	COMPRESS_BYTE_COUNT	260451
+SHUFFLE	COPY_MAP_DATA	15748000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	929706
+SHUFFLE	COMPRESS_BYTE_COUNT	287144
+SHUFFLE	COPY_MAP_DATA	15992000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	894689
+SHUFFLE	COMPRESS_BYTE_COUNT	273965
+SHUFFLE	COPY_MAP_DATA	15069000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	921113
+SHUFFLE	COMPRESS_BYTE_COUNT	288627
+SHUFFLE	COPY_MAP_DATA	27807000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	833318
+SHUFFLE	COMPRESS_BYTE_COUNT	255860
+SHUFFLE	COPY_MAP_DATA	14079000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	862071
+SHUFFLE	COMPRESS_BYTE_COUNT	260273
+SHUFFLE	COPY_MAP_DATA	18531000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	919126
+SHUFFLE	COMPRESS_BYTE_COUNT	284826
+SHUFFLE	COPY_MAP_DATA	1109263000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	863359
+SHUFFLE	COMPRESS_BYTE_COUNT	273858
+SHUFFLE	COPY_MAP_DATA	55085000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	842136
+SHUFFLE	COMPRESS_BYTE_COUNT	266883
+SHUFFLE	COPY_MAP_DATA	54052000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	778411
+SHUFFLE	COMPRESS_BYTE_COUNT	236659
+SHUFFLE	COPY_MAP_DATA	75750000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	975415
+SHUFFLE	COMPRESS_BYTE_COUNT	281352
+SHUFFLE	COPY_MAP_DATA	122896000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	791976
+SHUFFLE	COMPRESS_BYTE_COUNT	244414
+SHUFFLE	COPY_MAP_DATA	23320000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	847959
+SHUFFLE	COMPRESS_BYTE_COUNT	261812
+SHUFFLE	COPY_MAP_DATA	58612000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	831511
+SHUFFLE	COMPRESS_BYTE_COUNT	251637
+SHUFFLE	COPY_MAP_DATA	14536000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	804008
+SHUFFLE	COMPRESS_BYTE_COUNT	262255
+SHUFFLE	COPY_MAP_DATA	14900000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	830714
+SHUFFLE	COMPRESS_BYTE_COUNT	258659
+SHUFFLE	COPY_MAP_DATA	13399000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	821864
+SHUFFLE	COMPRESS_BYTE_COUNT	248967
+SHUFFLE	COPY_MAP_DATA	14578000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	944864
+SHUFFLE	COMPRESS_BYTE_COUNT	283574
+SHUFFLE	COPY_MAP_DATA	171887000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	815607
+SHUFFLE	COMPRESS_BYTE_COUNT	249673
+SHUFFLE	COPY_MAP_DATA	69094000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	776846
+SHUFFLE	COMPRESS_BYTE_COUNT	244904
+SHUFFLE	COPY_MAP_DATA	234489000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	852869
+SHUFFLE	COMPRESS_BYTE_COUNT	258096
+SHUFFLE	COPY_MAP_DATA	15126000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	837318
+SHUFFLE	COMPRESS_BYTE_COUNT	244759
+SHUFFLE	COPY_MAP_DATA	14138000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	870354
+SHUFFLE	COMPRESS_BYTE_COUNT	259590
+SHUFFLE	COPY_MAP_DATA	94101000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	733920
+SHUFFLE	COMPRESS_BYTE_COUNT	230185
+SHUFFLE	COPY_MAP_DATA	14707000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	852727
+SHUFFLE	COMPRESS_BYTE_COUNT	260841
+SHUFFLE	COPY_MAP_DATA	173258000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1122281
+SHUFFLE	COMPRESS_BYTE_COUNT	228217
+SHUFFLE	COPY_MAP_DATA	18634000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	786541
+SHUFFLE	COMPRESS_BYTE_COUNT	249225
+SHUFFLE	COPY_MAP_DATA	115683000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	885031
+SHUFFLE	COMPRESS_BYTE_COUNT	271297
+SHUFFLE	COPY_MAP_DATA	77171000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	749808
+SHUFFLE	COMPRESS_BYTE_COUNT	230022
+SHUFFLE	COPY_MAP_DATA	16081000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	894016
+SHUFFLE	COMPRESS_BYTE_COUNT	253801
+SHUFFLE	COPY_MAP_DATA	15482000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	731611
+SHUFFLE	COMPRESS_BYTE_COUNT	232482
+SHUFFLE	COPY_MAP_DATA	15254000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	818555
+SHUFFLE	COMPRESS_BYTE_COUNT	251754
+SHUFFLE	COPY_MAP_DATA	16654000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	755947
+SHUFFLE	COMPRESS_BYTE_COUNT	232809
+SHUFFLE	COPY_MAP_DATA	64317000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	825106
+SHUFFLE	COMPRESS_BYTE_COUNT	251428
+SHUFFLE	COPY_MAP_DATA	353794000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	862938
+SHUFFLE	COMPRESS_BYTE_COUNT	255296
+SHUFFLE	COPY_MAP_DATA	15427000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	791431
+SHUFFLE	COMPRESS_BYTE_COUNT	238479
+SHUFFLE	COPY_MAP_DATA	27696000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	939002
+SHUFFLE	COMPRESS_BYTE_COUNT	250678
+SHUFFLE	COPY_MAP_DATA	593345000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	787815
+SHUFFLE	COMPRESS_BYTE_COUNT	241603
+SHUFFLE	COPY_MAP_DATA	81203000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	761901
+SHUFFLE	COMPRESS_BYTE_COUNT	232346
+SHUFFLE	COPY_MAP_DATA	25050000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	810788
+SHUFFLE	COMPRESS_BYTE_COUNT	249220
+SHUFFLE	COPY_MAP_DATA	14374000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	838576
+SHUFFLE	COMPRESS_BYTE_COUNT	252519
+SHUFFLE	COPY_MAP_DATA	1094882000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	777564
+SHUFFLE	COMPRESS_BYTE_COUNT	235992
+SHUFFLE	COPY_MAP_DATA	15673000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	940096
+SHUFFLE	COMPRESS_BYTE_COUNT	278840
+SHUFFLE	COPY_MAP_DATA	36760000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	850045
+SHUFFLE	COMPRESS_BYTE_COUNT	260711
+SHUFFLE	COPY_MAP_DATA	468775084
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	820123
+SHUFFLE	COMPRESS_BYTE_COUNT	229621
+SHUFFLE	COPY_MAP_DATA	806668000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	847468
+SHUFFLE	COMPRESS_BYTE_COUNT	259319
+SHUFFLE	COPY_MAP_DATA	17034000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	819530
+SHUFFLE	COMPRESS_BYTE_COUNT	249275
+SHUFFLE	COPY_MAP_DATA	15544000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1145215
+SHUFFLE	COMPRESS_BYTE_COUNT	361545
+SHUFFLE	COPY_MAP_DATA	39630000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	768551
+SHUFFLE	COMPRESS_BYTE_COUNT	233771
+SHUFFLE	COPY_MAP_DATA	14998000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	835070
+SHUFFLE	COMPRESS_BYTE_COUNT	251533
+SHUFFLE	COPY_MAP_DATA	17107000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	955170
+SHUFFLE	COMPRESS_BYTE_COUNT	264809
+SHUFFLE	COPY_MAP_DATA	25156000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	748570
+SHUFFLE	COMPRESS_BYTE_COUNT	229623
+SHUFFLE	COPY_MAP_DATA	85837000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	768301
+SHUFFLE	COMPRESS_BYTE_COUNT	238994
+SHUFFLE	COPY_MAP_DATA	17551000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	765710
+SHUFFLE	COMPRESS_BYTE_COUNT	233680
+SHUFFLE	COPY_MAP_DATA	15545000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	719099
+SHUFFLE	COMPRESS_BYTE_COUNT	222892
+SHUFFLE	COPY_MAP_DATA	1636654000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	929460
+SHUFFLE	COMPRESS_BYTE_COUNT	256902
+SHUFFLE	COPY_MAP_DATA	48179000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	771996
+SHUFFLE	COMPRESS_BYTE_COUNT	233192
+SHUFFLE	COPY_MAP_DATA	12801000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	853500
+SHUFFLE	COMPRESS_BYTE_COUNT	248932
+SHUFFLE	COPY_MAP_DATA	15990000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	856736
+SHUFFLE	COMPRESS_BYTE_COUNT	265861
+SHUFFLE	COPY_MAP_DATA	143148000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	931206
+SHUFFLE	COMPRESS_BYTE_COUNT	278604
+SHUFFLE	COPY_MAP_DATA	1809802000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	765617
+SHUFFLE	COMPRESS_BYTE_COUNT	236429
+SHUFFLE	COPY_MAP_DATA	261477000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	775309
+SHUFFLE	COMPRESS_BYTE_COUNT	231077
+SHUFFLE	COPY_MAP_DATA	15492000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	807479
+SHUFFLE	COMPRESS_BYTE_COUNT	229441
+SHUFFLE	COPY_MAP_DATA	12890000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	734399
+SHUFFLE	COMPRESS_BYTE_COUNT	230026
+SHUFFLE	COPY_MAP_DATA	355644000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	782946
+SHUFFLE	COMPRESS_BYTE_COUNT	237664
+SHUFFLE	COPY_MAP_DATA	131044000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	806550
+SHUFFLE	COMPRESS_BYTE_COUNT	237482
+SHUFFLE	COPY_MAP_DATA	15565000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	803146
+SHUFFLE	COMPRESS_BYTE_COUNT	238587
+SHUFFLE	COPY_MAP_DATA	14329000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	757449
+SHUFFLE	COMPRESS_BYTE_COUNT	226516
+SHUFFLE	COPY_MAP_DATA	16361000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	712914
+SHUFFLE	COMPRESS_BYTE_COUNT	216337
+SHUFFLE	COPY_MAP_DATA	157217000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	748745
+SHUFFLE	COMPRESS_BYTE_COUNT	227147
+SHUFFLE	COPY_MAP_DATA	28694000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1052075
+SHUFFLE	COMPRESS_BYTE_COUNT	339501
+SHUFFLE	COPY_MAP_DATA	28222000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	793245
+SHUFFLE	COMPRESS_BYTE_COUNT	236243
+SHUFFLE	COPY_MAP_DATA	62438000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	780771
+SHUFFLE	COMPRESS_BYTE_COUNT	231048
+SHUFFLE	COPY_MAP_DATA	31940000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	901015
+SHUFFLE	COMPRESS_BYTE_COUNT	260239
+SHUFFLE	COPY_MAP_DATA	83960000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1075899
+SHUFFLE	COMPRESS_BYTE_COUNT	260148
+SHUFFLE	COPY_MAP_DATA	17110000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	841365
+SHUFFLE	COMPRESS_BYTE_COUNT	260198
+SHUFFLE	COPY_MAP_DATA	23194000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	731212
+SHUFFLE	COMPRESS_BYTE_COUNT	226343
+SHUFFLE	COPY_MAP_DATA	168411000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	875070
+SHUFFLE	COMPRESS_BYTE_COUNT	261823
+SHUFFLE	COPY_MAP_DATA	33305000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	742401
+SHUFFLE	COMPRESS_BYTE_COUNT	230940
+SHUFFLE	COPY_MAP_DATA	14923000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1151871
+SHUFFLE	COMPRESS_BYTE_COUNT	261611
+SHUFFLE	COPY_MAP_DATA	33812000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	888953
+SHUFFLE	COMPRESS_BYTE_COUNT	252100
+SHUFFLE	COPY_MAP_DATA	16124000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	846670
+SHUFFLE	COMPRESS_BYTE_COUNT	237635
+SHUFFLE	COPY_MAP_DATA	18704000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	843098
+SHUFFLE	COMPRESS_BYTE_COUNT	256843
+SHUFFLE	COPY_MAP_DATA	74027000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	778006
+SHUFFLE	COMPRESS_BYTE_COUNT	235118
+SHUFFLE	COPY_MAP_DATA	16500000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	717646
+SHUFFLE	COMPRESS_BYTE_COUNT	227734
+SHUFFLE	COPY_MAP_DATA	52999000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	854125
+SHUFFLE	COMPRESS_BYTE_COUNT	253403
+SHUFFLE	COPY_MAP_DATA	53942000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	814189
+SHUFFLE	COMPRESS_BYTE_COUNT	248808
+SHUFFLE	COPY_MAP_DATA	231305000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	884356
+SHUFFLE	COMPRESS_BYTE_COUNT	264157
+SHUFFLE	COPY_MAP_DATA	21994000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	756919
+SHUFFLE	COMPRESS_BYTE_COUNT	237742
+SHUFFLE	COPY_MAP_DATA	193251000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	833436
+SHUFFLE	COMPRESS_BYTE_COUNT	243992
+SHUFFLE	COPY_MAP_DATA	199651000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	847237
+SHUFFLE	COMPRESS_BYTE_COUNT	249191
+SHUFFLE	COPY_MAP_DATA	16114000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	762539
+SHUFFLE	COMPRESS_BYTE_COUNT	234719
+SHUFFLE	COPY_MAP_DATA	14500000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	946061
+SHUFFLE	COMPRESS_BYTE_COUNT	247277
+SHUFFLE	COPY_MAP_DATA	94021000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	822213
+SHUFFLE	COMPRESS_BYTE_COUNT	253447
+SHUFFLE	COPY_MAP_DATA	17981000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	773187
+SHUFFLE	COMPRESS_BYTE_COUNT	229618
+SHUFFLE	COPY_MAP_DATA	61410000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	763966
+SHUFFLE	COMPRESS_BYTE_COUNT	232018
+SHUFFLE	COPY_MAP_DATA	25453000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1052480
+SHUFFLE	COMPRESS_BYTE_COUNT	316969
+SHUFFLE	COPY_MAP_DATA	34711000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	689081
+SHUFFLE	COMPRESS_BYTE_COUNT	212901
+SHUFFLE	COPY_MAP_DATA	63932000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1010268
+SHUFFLE	COMPRESS_BYTE_COUNT	188642
+SHUFFLE	COPY_MAP_DATA	13157000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	734396
+SHUFFLE	COMPRESS_BYTE_COUNT	231949
+SHUFFLE	COPY_MAP_DATA	36508000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	807200
+SHUFFLE	COMPRESS_BYTE_COUNT	229314
+SHUFFLE	COPY_MAP_DATA	19820000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	797070
+SHUFFLE	COMPRESS_BYTE_COUNT	214442
+SHUFFLE	COPY_MAP_DATA	13057000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	820245
+SHUFFLE	COMPRESS_BYTE_COUNT	253008
+SHUFFLE	COPY_MAP_DATA	15817000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	786652
+SHUFFLE	COMPRESS_BYTE_COUNT	240599
+SHUFFLE	COPY_MAP_DATA	13465000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	861369
+SHUFFLE	COMPRESS_BYTE_COUNT	249884
+SHUFFLE	COPY_MAP_DATA	15703000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	717646
+SHUFFLE	COMPRESS_BYTE_COUNT	227734
+SHUFFLE	COPY_MAP_DATA	1331920000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	928841
+SHUFFLE	COMPRESS_BYTE_COUNT	285524
+SHUFFLE	COPY_MAP_DATA	17703000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	826124
+SHUFFLE	COMPRESS_BYTE_COUNT	253086
+SHUFFLE	COPY_MAP_DATA	16014000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	737726
+SHUFFLE	COMPRESS_BYTE_COUNT	226923
+SHUFFLE	COPY_MAP_DATA	13466000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	747178
+SHUFFLE	COMPRESS_BYTE_COUNT	228662
+SHUFFLE	COPY_MAP_DATA	13523000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	789914
+SHUFFLE	COMPRESS_BYTE_COUNT	245091
+SHUFFLE	COPY_MAP_DATA	17621000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	800597
+SHUFFLE	COMPRESS_BYTE_COUNT	235490
+SHUFFLE	COPY_MAP_DATA	12326000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1301068
+SHUFFLE	COMPRESS_BYTE_COUNT	174948
+SHUFFLE	COPY_MAP_DATA	30709000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	790934
+SHUFFLE	COMPRESS_BYTE_COUNT	222758
+SHUFFLE	COPY_MAP_DATA	15591000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	633532
+SHUFFLE	COMPRESS_BYTE_COUNT	201476
+SHUFFLE	COPY_MAP_DATA	12534000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	806576
+SHUFFLE	COMPRESS_BYTE_COUNT	227286
+SHUFFLE	COPY_MAP_DATA	14741000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	898797
+SHUFFLE	COMPRESS_BYTE_COUNT	289833
+SHUFFLE	COPY_MAP_DATA	16440000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	813325
+SHUFFLE	COMPRESS_BYTE_COUNT	234982
+SHUFFLE	COPY_MAP_DATA	13669000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	961080
+SHUFFLE	COMPRESS_BYTE_COUNT	312680
+SHUFFLE	COPY_MAP_DATA	16694000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	747896
+SHUFFLE	COMPRESS_BYTE_COUNT	241157
+SHUFFLE	COPY_MAP_DATA	15133000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	195261512624
+MERGE	READ_WRITE	195036278624
+MERGE	READ_WRITE_COUNT	2
+MERGE	COMBINE	0
+MERGE	WRITE	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	34325517000
+SORT	READ_WRITE	34215268000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	118999928
+REDUCE	SETUP	357000
+REDUCE	SETUP_MEM	118999928
+REDUCE	CLEANUP	36000
+REDUCE	CLEANUP_MEM	166825272
+REDUCE	TOTAL_RUN	126195999148
+REDUCE	READ	7871905000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	110150946148
+REDUCE	WRITE	54337983000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	70334052
+REDUCE	VALUE_BYTE_COUNT	63945564
+REDUCE	REDUCE_MEM	166825272
+REDUCE	WRITE	10533000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	792927994827
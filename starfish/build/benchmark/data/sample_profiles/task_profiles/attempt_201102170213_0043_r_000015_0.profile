@@ -0,0 +1,1333 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1885672
+SHUFFLE	COMPRESS_BYTE_COUNT	565871
+SHUFFLE	COPY_MAP_DATA	545887000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1953237
+SHUFFLE	COMPRESS_BYTE_COUNT	564145
+SHUFFLE	COPY_MAP_DATA	38827000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1919727
+SHUFFLE	COMPRESS_BYTE_COUNT	556859
+SHUFFLE	COPY_MAP_DATA	64103000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1958667
+SHUFFLE	COMPRESS_BYTE_COUNT	549653
+SHUFFLE	COPY_MAP_DATA	59799000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1676730
+SHUFFLE	COMPRESS_BYTE_COUNT	470514
+SHUFFLE	COPY_MAP_DATA	94290000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1885044
+SHUFFLE	COMPRESS_BYTE_COUNT	550234
+SHUFFLE	COPY_MAP_DATA	36084000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2042660
+SHUFFLE	COMPRESS_BYTE_COUNT	567663
+SHUFFLE	COPY_MAP_DATA	69602000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1955306
+SHUFFLE	COMPRESS_BYTE_COUNT	531678
+SHUFFLE	COPY_MAP_DATA	31004000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1828999
+SHUFFLE	COMPRESS_BYTE_COUNT	471611
+SHUFFLE	COPY_MAP_DATA	28035000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1896992
+SHUFFLE	COMPRESS_BYTE_COUNT	572259
+SHUFFLE	COPY_MAP_DATA	34765000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1787445
+SHUFFLE	COMPRESS_BYTE_COUNT	543985
+SHUFFLE	COPY_MAP_DATA	85041000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1924246
+SHUFFLE	COMPRESS_BYTE_COUNT	553630
+SHUFFLE	COPY_MAP_DATA	33320000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1982972
+SHUFFLE	COMPRESS_BYTE_COUNT	578967
+SHUFFLE	COPY_MAP_DATA	31608000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1962289
+SHUFFLE	COMPRESS_BYTE_COUNT	546645
+SHUFFLE	COPY_MAP_DATA	30248000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1884612
+SHUFFLE	COMPRESS_BYTE_COUNT	554903
+SHUFFLE	COPY_MAP_DATA	110884000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1954173
+SHUFFLE	COMPRESS_BYTE_COUNT	565992
+SHUFFLE	COPY_MAP_DATA	29987000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1987447
+SHUFFLE	COMPRESS_BYTE_COUNT	538325
+SHUFFLE	COPY_MAP_DATA	27327000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1850704
+SHUFFLE	COMPRESS_BYTE_COUNT	488446
+SHUFFLE	COPY_MAP_DATA	720302000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1932323
+SHUFFLE	COMPRESS_BYTE_COUNT	569359
+SHUFFLE	COPY_MAP_DATA	31933000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2031609
+SHUFFLE	COMPRESS_BYTE_COUNT	555967
+SHUFFLE	COPY_MAP_DATA	37459000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1887053
+SHUFFLE	COMPRESS_BYTE_COUNT	561087
+SHUFFLE	COPY_MAP_DATA	30712000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1885039
+SHUFFLE	COMPRESS_BYTE_COUNT	566268
+SHUFFLE	COPY_MAP_DATA	34210000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1982016
+SHUFFLE	COMPRESS_BYTE_COUNT	570420
+SHUFFLE	COPY_MAP_DATA	30426000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1949163
+SHUFFLE	COMPRESS_BYTE_COUNT	539663
+SHUFFLE	COPY_MAP_DATA	62955000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2033553
+SHUFFLE	COMPRESS_BYTE_COUNT	556462
+SHUFFLE	COPY_MAP_DATA	29283000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1854108
+SHUFFLE	COMPRESS_BYTE_COUNT	549522
+SHUFFLE	COPY_MAP_DATA	58638000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1897827
+SHUFFLE	COMPRESS_BYTE_COUNT	563697
+SHUFFLE	COPY_MAP_DATA	225861000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1934805
+SHUFFLE	COMPRESS_BYTE_COUNT	569165
+SHUFFLE	COPY_MAP_DATA	80754000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2029821
+SHUFFLE	COMPRESS_BYTE_COUNT	566355
+SHUFFLE	COPY_MAP_DATA	34374000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2051803
+SHUFFLE	COMPRESS_BYTE_COUNT	572048
+SHUFFLE	COPY_MAP_DATA	28383000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1767568
+SHUFFLE	COMPRESS_BYTE_COUNT	529326
+SHUFFLE	COPY_MAP_DATA	28876000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1802133
+SHUFFLE	COMPRESS_BYTE_COUNT	546681
+SHUFFLE	COPY_MAP_DATA	29070000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1811360
+SHUFFLE	COMPRESS_BYTE_COUNT	550074
+SHUFFLE	COPY_MAP_DATA	146911000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1718936
+SHUFFLE	COMPRESS_BYTE_COUNT	525125
+SHUFFLE	COPY_MAP_DATA	26938000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1798100
+SHUFFLE	COMPRESS_BYTE_COUNT	546076
+SHUFFLE	COPY_MAP_DATA	29188000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1530082
+SHUFFLE	COMPRESS_BYTE_COUNT	455760
+SHUFFLE	COPY_MAP_DATA	109749000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1780145
+SHUFFLE	COMPRESS_BYTE_COUNT	533913
+SHUFFLE	COPY_MAP_DATA	28203000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1937276
+SHUFFLE	COMPRESS_BYTE_COUNT	565874
+SHUFFLE	COPY_MAP_DATA	30844000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1921475
+SHUFFLE	COMPRESS_BYTE_COUNT	566152
+SHUFFLE	COPY_MAP_DATA	3095158000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1933474
+SHUFFLE	COMPRESS_BYTE_COUNT	562481
+SHUFFLE	COPY_MAP_DATA	34819000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1768902
+SHUFFLE	COMPRESS_BYTE_COUNT	536867
+SHUFFLE	COPY_MAP_DATA	28796000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1724462
+SHUFFLE	COMPRESS_BYTE_COUNT	530582
+SHUFFLE	COPY_MAP_DATA	72817000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1718207
+SHUFFLE	COMPRESS_BYTE_COUNT	528794
+SHUFFLE	COPY_MAP_DATA	37396000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1817356
+SHUFFLE	COMPRESS_BYTE_COUNT	548846
+SHUFFLE	COPY_MAP_DATA	29602000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	3410303
+SHUFFLE	COMPRESS_BYTE_COUNT	513753
+SHUFFLE	COPY_MAP_DATA	153908000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1638630
+SHUFFLE	COMPRESS_BYTE_COUNT	489817
+SHUFFLE	COPY_MAP_DATA	27144000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1891533
+SHUFFLE	COMPRESS_BYTE_COUNT	553907
+SHUFFLE	COPY_MAP_DATA	630713000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1573946
+SHUFFLE	COMPRESS_BYTE_COUNT	469829
+SHUFFLE	COPY_MAP_DATA	116212000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1809291
+SHUFFLE	COMPRESS_BYTE_COUNT	550309
+SHUFFLE	COPY_MAP_DATA	27446000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1773998
+SHUFFLE	COMPRESS_BYTE_COUNT	536458
+SHUFFLE	COPY_MAP_DATA	783172000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1689826
+SHUFFLE	COMPRESS_BYTE_COUNT	484928
+SHUFFLE	COPY_MAP_DATA	48815000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1731737
+SHUFFLE	COMPRESS_BYTE_COUNT	498606
+SHUFFLE	COPY_MAP_DATA	93591000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1800417
+SHUFFLE	COMPRESS_BYTE_COUNT	524370
+SHUFFLE	COPY_MAP_DATA	475625000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1812161
+SHUFFLE	COMPRESS_BYTE_COUNT	546274
+SHUFFLE	COPY_MAP_DATA	27142000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1882934
+SHUFFLE	COMPRESS_BYTE_COUNT	540937
+SHUFFLE	COPY_MAP_DATA	28038000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1784098
+SHUFFLE	COMPRESS_BYTE_COUNT	523920
+SHUFFLE	COPY_MAP_DATA	30124000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2066278
+SHUFFLE	COMPRESS_BYTE_COUNT	548732
+SHUFFLE	COPY_MAP_DATA	54836000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1748599
+SHUFFLE	COMPRESS_BYTE_COUNT	528795
+SHUFFLE	COPY_MAP_DATA	27021000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1898017
+SHUFFLE	COMPRESS_BYTE_COUNT	553178
+SHUFFLE	COPY_MAP_DATA	40369000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1691571
+SHUFFLE	COMPRESS_BYTE_COUNT	516456
+SHUFFLE	COPY_MAP_DATA	46164000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1603214
+SHUFFLE	COMPRESS_BYTE_COUNT	479254
+SHUFFLE	COPY_MAP_DATA	25614000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1620418
+SHUFFLE	COMPRESS_BYTE_COUNT	478434
+SHUFFLE	COPY_MAP_DATA	168145000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1620290
+SHUFFLE	COMPRESS_BYTE_COUNT	483711
+SHUFFLE	COPY_MAP_DATA	24999000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1620770
+SHUFFLE	COMPRESS_BYTE_COUNT	478950
+SHUFFLE	COPY_MAP_DATA	38077000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1642167
+SHUFFLE	COMPRESS_BYTE_COUNT	479539
+SHUFFLE	COPY_MAP_DATA	2650884000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1575845
+SHUFFLE	COMPRESS_BYTE_COUNT	446194
+SHUFFLE	COPY_MAP_DATA	24451000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1639131
+SHUFFLE	COMPRESS_BYTE_COUNT	468878
+SHUFFLE	COPY_MAP_DATA	25094000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1612377
+SHUFFLE	COMPRESS_BYTE_COUNT	461112
+SHUFFLE	COPY_MAP_DATA	132854000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1636372
+SHUFFLE	COMPRESS_BYTE_COUNT	474336
+SHUFFLE	COPY_MAP_DATA	26914000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1678101
+SHUFFLE	COMPRESS_BYTE_COUNT	475245
+SHUFFLE	COPY_MAP_DATA	42055000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1489605
+SHUFFLE	COMPRESS_BYTE_COUNT	441377
+SHUFFLE	COPY_MAP_DATA	55882000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1923406
+SHUFFLE	COMPRESS_BYTE_COUNT	549811
+SHUFFLE	COPY_MAP_DATA	69990000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1906474
+SHUFFLE	COMPRESS_BYTE_COUNT	582674
+SHUFFLE	COPY_MAP_DATA	115334000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1707036
+SHUFFLE	COMPRESS_BYTE_COUNT	489220
+SHUFFLE	COPY_MAP_DATA	167069000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1611905
+SHUFFLE	COMPRESS_BYTE_COUNT	461679
+SHUFFLE	COPY_MAP_DATA	107936000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1657167
+SHUFFLE	COMPRESS_BYTE_COUNT	483915
+SHUFFLE	COPY_MAP_DATA	27417000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1619465
+SHUFFLE	COMPRESS_BYTE_COUNT	456735
+SHUFFLE	COPY_MAP_DATA	33281000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1600165
+SHUFFLE	COMPRESS_BYTE_COUNT	472143
+SHUFFLE	COPY_MAP_DATA	25921000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1587481
+SHUFFLE	COMPRESS_BYTE_COUNT	468017
+SHUFFLE	COPY_MAP_DATA	285836000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1868913
+SHUFFLE	COMPRESS_BYTE_COUNT	577624
+SHUFFLE	COPY_MAP_DATA	376818000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1784764
+SHUFFLE	COMPRESS_BYTE_COUNT	520184
+SHUFFLE	COPY_MAP_DATA	26714000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1637617
+SHUFFLE	COMPRESS_BYTE_COUNT	478194
+SHUFFLE	COPY_MAP_DATA	436987000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1673065
+SHUFFLE	COMPRESS_BYTE_COUNT	482312
+SHUFFLE	COPY_MAP_DATA	27383000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1707140
+SHUFFLE	COMPRESS_BYTE_COUNT	485509
+SHUFFLE	COPY_MAP_DATA	414610000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1815663
+SHUFFLE	COMPRESS_BYTE_COUNT	536489
+SHUFFLE	COPY_MAP_DATA	41081000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1546381
+SHUFFLE	COMPRESS_BYTE_COUNT	462617
+SHUFFLE	COPY_MAP_DATA	1001377000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1729718
+SHUFFLE	COMPRESS_BYTE_COUNT	538877
+SHUFFLE	COPY_MAP_DATA	333657000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	825397
+SHUFFLE	COMPRESS_BYTE_COUNT	234354
+SHUFFLE	COPY_MAP_DATA	34625000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1493088
+SHUFFLE	COMPRESS_BYTE_COUNT	433661
+SHUFFLE	COPY_MAP_DATA	23644000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1778711
+SHUFFLE	COMPRESS_BYTE_COUNT	478289
+SHUFFLE	COPY_MAP_DATA	839658000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1564052
+SHUFFLE	COMPRESS_BYTE_COUNT	448951
+SHUFFLE	COPY_MAP_DATA	1814061000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1003604
+SHUFFLE	COMPRESS_BYTE_COUNT	267514
+SHUFFLE	COPY_MAP_DATA	16790000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	952048
+SHUFFLE	COMPRESS_BYTE_COUNT	267378
+SHUFFLE	COPY_MAP_DATA	54624000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	898658
+SHUFFLE	COMPRESS_BYTE_COUNT	251417
+SHUFFLE	COPY_MAP_DATA	54777000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1697835
+SHUFFLE	COMPRESS_BYTE_COUNT	480983
+SHUFFLE	COPY_MAP_DATA	32858000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	814605
+SHUFFLE	COMPRESS_BYTE_COUNT	241966
+SHUFFLE	COPY_MAP_DATA	14930000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1011490
+SHUFFLE	COMPRESS_BYTE_COUNT	294464
+SHUFFLE	COPY_MAP_DATA	17240000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	862127
+SHUFFLE	COMPRESS_BYTE_COUNT	245415
+SHUFFLE	COPY_MAP_DATA	15171000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1718956
+SHUFFLE	COMPRESS_BYTE_COUNT	475577
+SHUFFLE	COPY_MAP_DATA	515055000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1465881
+SHUFFLE	COMPRESS_BYTE_COUNT	433781
+SHUFFLE	COPY_MAP_DATA	23685000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1616846
+SHUFFLE	COMPRESS_BYTE_COUNT	475351
+SHUFFLE	COPY_MAP_DATA	71905000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1530040
+SHUFFLE	COMPRESS_BYTE_COUNT	455001
+SHUFFLE	COPY_MAP_DATA	23950000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1622454
+SHUFFLE	COMPRESS_BYTE_COUNT	481462
+SHUFFLE	COPY_MAP_DATA	1513450000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1415765
+SHUFFLE	COMPRESS_BYTE_COUNT	417378
+SHUFFLE	COPY_MAP_DATA	23389000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1018915
+SHUFFLE	COMPRESS_BYTE_COUNT	292966
+SHUFFLE	COPY_MAP_DATA	16691000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1478398
+SHUFFLE	COMPRESS_BYTE_COUNT	443056
+SHUFFLE	COPY_MAP_DATA	402615000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1716220
+SHUFFLE	COMPRESS_BYTE_COUNT	535202
+SHUFFLE	COPY_MAP_DATA	27824000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1595787
+SHUFFLE	COMPRESS_BYTE_COUNT	451699
+SHUFFLE	COPY_MAP_DATA	24695000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	968629
+SHUFFLE	COMPRESS_BYTE_COUNT	286971
+SHUFFLE	COPY_MAP_DATA	16906000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1781210
+SHUFFLE	COMPRESS_BYTE_COUNT	516924
+SHUFFLE	COPY_MAP_DATA	26563000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	929990
+SHUFFLE	COMPRESS_BYTE_COUNT	276094
+SHUFFLE	COPY_MAP_DATA	16450000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1057459
+SHUFFLE	COMPRESS_BYTE_COUNT	292821
+SHUFFLE	COPY_MAP_DATA	17771000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1602115
+SHUFFLE	COMPRESS_BYTE_COUNT	468450
+SHUFFLE	COPY_MAP_DATA	7126460000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1627189
+SHUFFLE	COMPRESS_BYTE_COUNT	495795
+SHUFFLE	COPY_MAP_DATA	24644000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	950801
+SHUFFLE	COMPRESS_BYTE_COUNT	282575
+SHUFFLE	COPY_MAP_DATA	2792964000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1920725
+SHUFFLE	COMPRESS_BYTE_COUNT	367473
+SHUFFLE	COPY_MAP_DATA	44418000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1629540
+SHUFFLE	COMPRESS_BYTE_COUNT	474308
+SHUFFLE	COPY_MAP_DATA	146449000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1009657
+SHUFFLE	COMPRESS_BYTE_COUNT	293871
+SHUFFLE	COPY_MAP_DATA	1105419000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1783749
+SHUFFLE	COMPRESS_BYTE_COUNT	529613
+SHUFFLE	COPY_MAP_DATA	449510000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1692751
+SHUFFLE	COMPRESS_BYTE_COUNT	486762
+SHUFFLE	COPY_MAP_DATA	2696751000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1613199
+SHUFFLE	COMPRESS_BYTE_COUNT	465278
+SHUFFLE	COPY_MAP_DATA	1925506000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	964287
+SHUFFLE	COMPRESS_BYTE_COUNT	289258
+SHUFFLE	COPY_MAP_DATA	41389000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	921688
+SHUFFLE	COMPRESS_BYTE_COUNT	288439
+SHUFFLE	COPY_MAP_DATA	2648074000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1000817
+SHUFFLE	COMPRESS_BYTE_COUNT	296751
+SHUFFLE	COPY_MAP_DATA	239776000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	969131
+SHUFFLE	COMPRESS_BYTE_COUNT	286113
+SHUFFLE	COPY_MAP_DATA	669836000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	986679
+SHUFFLE	COMPRESS_BYTE_COUNT	270527
+SHUFFLE	COPY_MAP_DATA	3290858000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1009714
+SHUFFLE	COMPRESS_BYTE_COUNT	303910
+SHUFFLE	COPY_MAP_DATA	18025000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	958637
+SHUFFLE	COMPRESS_BYTE_COUNT	287912
+SHUFFLE	COPY_MAP_DATA	17554000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	950866
+SHUFFLE	COMPRESS_BYTE_COUNT	289625
+SHUFFLE	COPY_MAP_DATA	15860000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	961092
+SHUFFLE	COMPRESS_BYTE_COUNT	293506
+SHUFFLE	COPY_MAP_DATA	27966000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1002373
+SHUFFLE	COMPRESS_BYTE_COUNT	302806
+SHUFFLE	COPY_MAP_DATA	17848000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	977648
+SHUFFLE	COMPRESS_BYTE_COUNT	292369
+SHUFFLE	COPY_MAP_DATA	38530000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	949012
+SHUFFLE	COMPRESS_BYTE_COUNT	287345
+SHUFFLE	COPY_MAP_DATA	18522000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	944066
+SHUFFLE	COMPRESS_BYTE_COUNT	290801
+SHUFFLE	COPY_MAP_DATA	16304000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1014640
+SHUFFLE	COMPRESS_BYTE_COUNT	295839
+SHUFFLE	COPY_MAP_DATA	63281000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	995915
+SHUFFLE	COMPRESS_BYTE_COUNT	297531
+SHUFFLE	COPY_MAP_DATA	16233000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1071977
+SHUFFLE	COMPRESS_BYTE_COUNT	296096
+SHUFFLE	COPY_MAP_DATA	4035752000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	959634
+SHUFFLE	COMPRESS_BYTE_COUNT	285702
+SHUFFLE	COPY_MAP_DATA	1824952000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	963358
+SHUFFLE	COMPRESS_BYTE_COUNT	286110
+SHUFFLE	COPY_MAP_DATA	16727000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1017731
+SHUFFLE	COMPRESS_BYTE_COUNT	308934
+SHUFFLE	COPY_MAP_DATA	25274000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	925234
+SHUFFLE	COMPRESS_BYTE_COUNT	290013
+SHUFFLE	COPY_MAP_DATA	17780000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	958260
+SHUFFLE	COMPRESS_BYTE_COUNT	294338
+SHUFFLE	COPY_MAP_DATA	17270000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1050988
+SHUFFLE	COMPRESS_BYTE_COUNT	303670
+SHUFFLE	COPY_MAP_DATA	35532000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	972595
+SHUFFLE	COMPRESS_BYTE_COUNT	299362
+SHUFFLE	COPY_MAP_DATA	1298536000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	952286
+SHUFFLE	COMPRESS_BYTE_COUNT	293342
+SHUFFLE	COPY_MAP_DATA	20855000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	974152
+SHUFFLE	COMPRESS_BYTE_COUNT	296963
+SHUFFLE	COPY_MAP_DATA	15820000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	927606
+SHUFFLE	COMPRESS_BYTE_COUNT	293014
+SHUFFLE	COPY_MAP_DATA	16376000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	983834
+SHUFFLE	COMPRESS_BYTE_COUNT	295656
+SHUFFLE	COPY_MAP_DATA	17513000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	986417
+SHUFFLE	COMPRESS_BYTE_COUNT	296371
+SHUFFLE	COPY_MAP_DATA	140313000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	931084
+SHUFFLE	COMPRESS_BYTE_COUNT	277055
+SHUFFLE	COPY_MAP_DATA	16449000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	973260
+SHUFFLE	COMPRESS_BYTE_COUNT	302653
+SHUFFLE	COPY_MAP_DATA	16882000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	969388
+SHUFFLE	COMPRESS_BYTE_COUNT	302774
+SHUFFLE	COPY_MAP_DATA	17243000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	957067
+SHUFFLE	COMPRESS_BYTE_COUNT	301618
+SHUFFLE	COPY_MAP_DATA	35674000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	929228
+SHUFFLE	COMPRESS_BYTE_COUNT	289948
+SHUFFLE	COPY_MAP_DATA	429447000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	946600
+SHUFFLE	COMPRESS_BYTE_COUNT	288284
+SHUFFLE	COPY_MAP_DATA	15839000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1056245
+SHUFFLE	COMPRESS_BYTE_COUNT	291157
+SHUFFLE	COPY_MAP_DATA	16991000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	951534
+SHUFFLE	COMPRESS_BYTE_COUNT	292209
+SHUFFLE	COPY_MAP_DATA	17214000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1978941
+SHUFFLE	COMPRESS_BYTE_COUNT	307814
+SHUFFLE	COPY_MAP_DATA	97594000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	938573
+SHUFFLE	COMPRESS_BYTE_COUNT	287119
+SHUFFLE	COPY_MAP_DATA	321604000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	980034
+SHUFFLE	COMPRESS_BYTE_COUNT	278653
+SHUFFLE	COPY_MAP_DATA	16111000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	948924
+SHUFFLE	COMPRESS_BYTE_COUNT	295547
+SHUFFLE	COPY_MAP_DATA	213967000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	924822
+SHUFFLE	COMPRESS_BYTE_COUNT	293747
+SHUFFLE	COPY_MAP_DATA	20591000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	993212
+SHUFFLE	COMPRESS_BYTE_COUNT	300656
+SHUFFLE	COPY_MAP_DATA	15993000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1035694
+SHUFFLE	COMPRESS_BYTE_COUNT	296130
+SHUFFLE	COPY_MAP_DATA	17509000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	912369
+SHUFFLE	COMPRESS_BYTE_COUNT	281313
+SHUFFLE	COPY_MAP_DATA	273197000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	958173
+SHUFFLE	COMPRESS_BYTE_COUNT	297490
+SHUFFLE	COPY_MAP_DATA	29770000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	952057
+SHUFFLE	COMPRESS_BYTE_COUNT	294626
+SHUFFLE	COPY_MAP_DATA	15992000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	994129
+SHUFFLE	COMPRESS_BYTE_COUNT	295167
+SHUFFLE	COPY_MAP_DATA	51436000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	933080
+SHUFFLE	COMPRESS_BYTE_COUNT	284986
+SHUFFLE	COPY_MAP_DATA	73635000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	896805
+SHUFFLE	COMPRESS_BYTE_COUNT	281296
+SHUFFLE	COPY_MAP_DATA	40167000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	938131
+SHUFFLE	COMPRESS_BYTE_COUNT	289794
+SHUFFLE	COPY_MAP_DATA	16379000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	927974
+SHUFFLE	COMPRESS_BYTE_COUNT	288257
+SHUFFLE	COPY_MAP_DATA	26686000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	878190
+SHUFFLE	COMPRESS_BYTE_COUNT	276872
+SHUFFLE	COPY_MAP_DATA	15303000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	969420
+SHUFFLE	COMPRESS_BYTE_COUNT	297120
+SHUFFLE	COPY_MAP_DATA	320031000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	949642
+SHUFFLE	COMPRESS_BYTE_COUNT	288665
+SHUFFLE	COPY_MAP_DATA	66371000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	933499
+SHUFFLE	COMPRESS_BYTE_COUNT	295907
+SHUFFLE	COPY_MAP_DATA	15858000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	982521
+SHUFFLE	COMPRESS_BYTE_COUNT	299893
+SHUFFLE	COPY_MAP_DATA	631686000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	907703
+SHUFFLE	COMPRESS_BYTE_COUNT	282193
+SHUFFLE	COPY_MAP_DATA	14759000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	877776
+SHUFFLE	COMPRESS_BYTE_COUNT	277356
+SHUFFLE	COPY_MAP_DATA	138161000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	946407
+SHUFFLE	COMPRESS_BYTE_COUNT	288977
+SHUFFLE	COPY_MAP_DATA	16510000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	907975
+SHUFFLE	COMPRESS_BYTE_COUNT	287107
+SHUFFLE	COPY_MAP_DATA	15558000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	966935
+SHUFFLE	COMPRESS_BYTE_COUNT	302253
+SHUFFLE	COPY_MAP_DATA	42335000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	960852
+SHUFFLE	COMPRESS_BYTE_COUNT	293547
+SHUFFLE	COPY_MAP_DATA	48110000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	869665
+SHUFFLE	COMPRESS_BYTE_COUNT	271849
+SHUFFLE	COPY_MAP_DATA	514778000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	879948
+SHUFFLE	COMPRESS_BYTE_COUNT	278340
+SHUFFLE	COPY_MAP_DATA	294147000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	952962
+SHUFFLE	COMPRESS_BYTE_COUNT	290059
+SHUFFLE	COPY_MAP_DATA	125643000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	888130
+SHUFFLE	COMPRESS_BYTE_COUNT	279400
+SHUFFLE	COPY_MAP_DATA	206823000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	855201
+SHUFFLE	COMPRESS_BYTE_COUNT	268729
+SHUFFLE	COPY_MAP_DATA	16823000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	860929
+SHUFFLE	COMPRESS_BYTE_COUNT	270454
+SHUFFLE	COPY_MAP_DATA	275609000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	894303
+SHUFFLE	COMPRESS_BYTE_COUNT	284992
+SHUFFLE	COPY_MAP_DATA	100743000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	886827
+SHUFFLE	COMPRESS_BYTE_COUNT	277783
+SHUFFLE	COPY_MAP_DATA	25566000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	914557
+SHUFFLE	COMPRESS_BYTE_COUNT	291703
+SHUFFLE	COPY_MAP_DATA	301667000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	873644
+SHUFFLE	COMPRESS_BYTE_COUNT	278062
+SHUFFLE	COPY_MAP_DATA	191394000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	929345
+SHUFFLE	COMPRESS_BYTE_COUNT	292847
+SHUFFLE	COPY_MAP_DATA	719110000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	879697
+SHUFFLE	COMPRESS_BYTE_COUNT	274266
+SHUFFLE	COPY_MAP_DATA	353067000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	923945
+SHUFFLE	COMPRESS_BYTE_COUNT	290023
+SHUFFLE	COPY_MAP_DATA	301563000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	892026
+SHUFFLE	COMPRESS_BYTE_COUNT	287178
+SHUFFLE	COPY_MAP_DATA	230118000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	879418
+SHUFFLE	COMPRESS_BYTE_COUNT	279754
+SHUFFLE	COPY_MAP_DATA	16620000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	924328
+SHUFFLE	COMPRESS_BYTE_COUNT	275986
+SHUFFLE	COPY_MAP_DATA	226032000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	890424
+SHUFFLE	COMPRESS_BYTE_COUNT	280859
+SHUFFLE	COPY_MAP_DATA	16326000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	864603
+SHUFFLE	COMPRESS_BYTE_COUNT	269968
+SHUFFLE	COPY_MAP_DATA	105300000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	861774
+SHUFFLE	COMPRESS_BYTE_COUNT	271928
+SHUFFLE	COPY_MAP_DATA	308871000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	857577
+SHUFFLE	COMPRESS_BYTE_COUNT	273817
+SHUFFLE	COPY_MAP_DATA	1499624000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	865245
+SHUFFLE	COMPRESS_BYTE_COUNT	253680
+SHUFFLE	COPY_MAP_DATA	4977836000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	816493
+SHUFFLE	COMPRESS_BYTE_COUNT	253163
+SHUFFLE	COPY_MAP_DATA	13885000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	909671
+SHUFFLE	COMPRESS_BYTE_COUNT	289482
+SHUFFLE	COPY_MAP_DATA	293160000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	929305
+SHUFFLE	COMPRESS_BYTE_COUNT	285936
+SHUFFLE	COPY_MAP_DATA	1158253000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	845046
+SHUFFLE	COMPRESS_BYTE_COUNT	271113
+SHUFFLE	COPY_MAP_DATA	390498000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	889723
+SHUFFLE	COMPRESS_BYTE_COUNT	274279
+SHUFFLE	COPY_MAP_DATA	29872000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	854795
+SHUFFLE	COMPRESS_BYTE_COUNT	258614
+SHUFFLE	COPY_MAP_DATA	13828000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	845294
+SHUFFLE	COMPRESS_BYTE_COUNT	266362
+SHUFFLE	COPY_MAP_DATA	48864000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	919595
+SHUFFLE	COMPRESS_BYTE_COUNT	284518
+SHUFFLE	COPY_MAP_DATA	20806000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	867517
+SHUFFLE	COMPRESS_BYTE_COUNT	258809
+SHUFFLE	COPY_MAP_DATA	15508000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	920137
+SHUFFLE	COMPRESS_BYTE_COUNT	279499
+SHUFFLE	COPY_MAP_DATA	33500000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	776518
+SHUFFLE	COMPRESS_BYTE_COUNT	243256
+SHUFFLE	COPY_MAP_DATA	77402000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	821908
+SHUFFLE	COMPRESS_BYTE_COUNT	264549
+SHUFFLE	COPY_MAP_DATA	4531886000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	843902
+SHUFFLE	COMPRESS_BYTE_COUNT	253231
+SHUFFLE	COPY_MAP_DATA	43855000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	847668
+SHUFFLE	COMPRESS_BYTE_COUNT	256216
+SHUFFLE	COPY_MAP_DATA	25423000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	963341
+SHUFFLE	COMPRESS_BYTE_COUNT	276425
+SHUFFLE	COPY_MAP_DATA	70664000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	826846
+SHUFFLE	COMPRESS_BYTE_COUNT	249119
+SHUFFLE	COPY_MAP_DATA	14716000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	851827
+SHUFFLE	COMPRESS_BYTE_COUNT	263624
+SHUFFLE	COPY_MAP_DATA	280243000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	820157
+SHUFFLE	COMPRESS_BYTE_COUNT	247222
+SHUFFLE	COPY_MAP_DATA	148680000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	942375
+SHUFFLE	COMPRESS_BYTE_COUNT	283016
+SHUFFLE	COPY_MAP_DATA	329665000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	860632
+SHUFFLE	COMPRESS_BYTE_COUNT	269596
+SHUFFLE	COPY_MAP_DATA	106465000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	828459
+SHUFFLE	COMPRESS_BYTE_COUNT	258380
+SHUFFLE	COPY_MAP_DATA	13618000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	858044
+SHUFFLE	COMPRESS_BYTE_COUNT	260749
+SHUFFLE	COPY_MAP_DATA	2912299000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	792756
+SHUFFLE	COMPRESS_BYTE_COUNT	245507
+SHUFFLE	COPY_MAP_DATA	340858000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	808681
+SHUFFLE	COMPRESS_BYTE_COUNT	241837
+SHUFFLE	COPY_MAP_DATA	14145000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	819358
+SHUFFLE	COMPRESS_BYTE_COUNT	252477
+SHUFFLE	COPY_MAP_DATA	77554000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	866494
+SHUFFLE	COMPRESS_BYTE_COUNT	263576
+SHUFFLE	COPY_MAP_DATA	1203628000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	758579
+SHUFFLE	COMPRESS_BYTE_COUNT	231839
+SHUFFLE	COPY_MAP_DATA	168495000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	984920
+SHUFFLE	COMPRESS_BYTE_COUNT	222447
+SHUFFLE	COPY_MAP_DATA	61212000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	999080
+SHUFFLE	COMPRESS_BYTE_COUNT	293633
+SHUFFLE	COPY_MAP_DATA	2294543000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	806154
+SHUFFLE	COMPRESS_BYTE_COUNT	249226
+SHUFFLE	COPY_MAP_DATA	89275000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	772972
+SHUFFLE	COMPRESS_BYTE_COUNT	239657
+SHUFFLE	COPY_MAP_DATA	86408000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	789640
+SHUFFLE	COMPRESS_BYTE_COUNT	241137
+SHUFFLE	COPY_MAP_DATA	1365340000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	833488
+SHUFFLE	COMPRESS_BYTE_COUNT	254488
+SHUFFLE	COPY_MAP_DATA	14778000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	805309
+SHUFFLE	COMPRESS_BYTE_COUNT	248665
+SHUFFLE	COPY_MAP_DATA	96101000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	866260
+SHUFFLE	COMPRESS_BYTE_COUNT	251572
+SHUFFLE	COPY_MAP_DATA	193464000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	779045
+SHUFFLE	COMPRESS_BYTE_COUNT	237053
+SHUFFLE	COPY_MAP_DATA	363260000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	765894
+SHUFFLE	COMPRESS_BYTE_COUNT	234977
+SHUFFLE	COPY_MAP_DATA	14313000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	786805
+SHUFFLE	COMPRESS_BYTE_COUNT	243056
+SHUFFLE	COPY_MAP_DATA	17586000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	812069
+SHUFFLE	COMPRESS_BYTE_COUNT	247899
+SHUFFLE	COPY_MAP_DATA	13574000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	822311
+SHUFFLE	COMPRESS_BYTE_COUNT	243252
+SHUFFLE	COPY_MAP_DATA	14394000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	773742
+SHUFFLE	COMPRESS_BYTE_COUNT	233332
+SHUFFLE	COPY_MAP_DATA	14075000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	837914
+SHUFFLE	COMPRESS_BYTE_COUNT	256120
+SHUFFLE	COPY_MAP_DATA	26439000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	801577
+SHUFFLE	COMPRESS_BYTE_COUNT	248487
+SHUFFLE	COPY_MAP_DATA	40676000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	818202
+SHUFFLE	COMPRESS_BYTE_COUNT	240382
+SHUFFLE	COPY_MAP_DATA	88767000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	912070
+SHUFFLE	COMPRESS_BYTE_COUNT	273950
+SHUFFLE	COPY_MAP_DATA	81369000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	821540
+SHUFFLE	COMPRESS_BYTE_COUNT	258487
+SHUFFLE	COPY_MAP_DATA	181395000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	872696
+SHUFFLE	COMPRESS_BYTE_COUNT	263571
+SHUFFLE	COPY_MAP_DATA	14393000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	799310
+SHUFFLE	COMPRESS_BYTE_COUNT	225652
+SHUFFLE	COPY_MAP_DATA	20949000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1133504
+SHUFFLE	COMPRESS_BYTE_COUNT	359365
+SHUFFLE	COPY_MAP_DATA	243962000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	830595
+SHUFFLE	COMPRESS_BYTE_COUNT	252358
+SHUFFLE	COPY_MAP_DATA	15338000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	849493
+SHUFFLE	COMPRESS_BYTE_COUNT	243594
+SHUFFLE	COPY_MAP_DATA	88431000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	754590
+SHUFFLE	COMPRESS_BYTE_COUNT	233150
+SHUFFLE	COPY_MAP_DATA	710440000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	759362
+SHUFFLE	COMPRESS_BYTE_COUNT	231806
+SHUFFLE	COPY_MAP_DATA	204695000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1009915
+SHUFFLE	COMPRESS_BYTE_COUNT	279887
+SHUFFLE	COPY_MAP_DATA	97281000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	864272
+SHUFFLE	COMPRESS_BYTE_COUNT	260670
+SHUFFLE	COPY_MAP_DATA	388934000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	785906
+SHUFFLE	COMPRESS_BYTE_COUNT	237032
+SHUFFLE	COPY_MAP_DATA	15173000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	769915
+SHUFFLE	COMPRESS_BYTE_COUNT	231269
+SHUFFLE	COPY_MAP_DATA	2352173000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	755548
+SHUFFLE	COMPRESS_BYTE_COUNT	238334
+SHUFFLE	COPY_MAP_DATA	1133598000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	849672
+SHUFFLE	COMPRESS_BYTE_COUNT	264473
+SHUFFLE	COPY_MAP_DATA	41507000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	794177
+SHUFFLE	COMPRESS_BYTE_COUNT	236297
+SHUFFLE	COPY_MAP_DATA	13307000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	826574
+SHUFFLE	COMPRESS_BYTE_COUNT	247262
+SHUFFLE	COPY_MAP_DATA	212846000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	762253
+SHUFFLE	COMPRESS_BYTE_COUNT	230690
+SHUFFLE	COPY_MAP_DATA	210240000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	951294
+SHUFFLE	COMPRESS_BYTE_COUNT	280280
+SHUFFLE	COPY_MAP_DATA	12499130000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	791469
+SHUFFLE	COMPRESS_BYTE_COUNT	230398
+SHUFFLE	COPY_MAP_DATA	413120000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	798752
+SHUFFLE	COMPRESS_BYTE_COUNT	242041
+SHUFFLE	COPY_MAP_DATA	165177000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	819641
+SHUFFLE	COMPRESS_BYTE_COUNT	243959
+SHUFFLE	COPY_MAP_DATA	15041000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	842766
+SHUFFLE	COMPRESS_BYTE_COUNT	245342
+SHUFFLE	COPY_MAP_DATA	22423000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	751039
+SHUFFLE	COMPRESS_BYTE_COUNT	234483
+SHUFFLE	COPY_MAP_DATA	13696000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	734314
+SHUFFLE	COMPRESS_BYTE_COUNT	230142
+SHUFFLE	COPY_MAP_DATA	13484000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	723713
+SHUFFLE	COMPRESS_BYTE_COUNT	221836
+SHUFFLE	COPY_MAP_DATA	43054000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	813587
+SHUFFLE	COMPRESS_BYTE_COUNT	238907
+SHUFFLE	COPY_MAP_DATA	1499012000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	775049
+SHUFFLE	COMPRESS_BYTE_COUNT	232750
+SHUFFLE	COPY_MAP_DATA	569756000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	792266
+SHUFFLE	COMPRESS_BYTE_COUNT	233820
+SHUFFLE	COPY_MAP_DATA	91661000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	794139
+SHUFFLE	COMPRESS_BYTE_COUNT	234343
+SHUFFLE	COPY_MAP_DATA	117572000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	847666
+SHUFFLE	COMPRESS_BYTE_COUNT	250205
+SHUFFLE	COPY_MAP_DATA	164292000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1062761
+SHUFFLE	COMPRESS_BYTE_COUNT	343295
+SHUFFLE	COPY_MAP_DATA	731190000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1056365
+SHUFFLE	COMPRESS_BYTE_COUNT	283883
+SHUFFLE	COPY_MAP_DATA	217739000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	802105
+SHUFFLE	COMPRESS_BYTE_COUNT	227685
+SHUFFLE	COPY_MAP_DATA	762721000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	856034
+SHUFFLE	COMPRESS_BYTE_COUNT	245056
+SHUFFLE	COPY_MAP_DATA	14767000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	859476
+SHUFFLE	COMPRESS_BYTE_COUNT	251428
+SHUFFLE	COPY_MAP_DATA	50217000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	758276
+SHUFFLE	COMPRESS_BYTE_COUNT	228745
+SHUFFLE	COPY_MAP_DATA	223560000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	832527
+SHUFFLE	COMPRESS_BYTE_COUNT	258614
+SHUFFLE	COPY_MAP_DATA	176077000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	859480
+SHUFFLE	COMPRESS_BYTE_COUNT	257948
+SHUFFLE	COPY_MAP_DATA	24126000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	879343
+SHUFFLE	COMPRESS_BYTE_COUNT	263311
+SHUFFLE	COPY_MAP_DATA	13810000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	751664
+SHUFFLE	COMPRESS_BYTE_COUNT	232865
+SHUFFLE	COPY_MAP_DATA	12269000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	918741
+SHUFFLE	COMPRESS_BYTE_COUNT	259746
+SHUFFLE	COPY_MAP_DATA	15467000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	742677
+SHUFFLE	COMPRESS_BYTE_COUNT	227249
+SHUFFLE	COPY_MAP_DATA	14362000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	778281
+SHUFFLE	COMPRESS_BYTE_COUNT	234850
+SHUFFLE	COPY_MAP_DATA	13376000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	751761
+SHUFFLE	COMPRESS_BYTE_COUNT	236533
+SHUFFLE	COPY_MAP_DATA	1513684000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	817147
+SHUFFLE	COMPRESS_BYTE_COUNT	248554
+SHUFFLE	COPY_MAP_DATA	15086000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	901500
+SHUFFLE	COMPRESS_BYTE_COUNT	266242
+SHUFFLE	COPY_MAP_DATA	15592000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	782899
+SHUFFLE	COMPRESS_BYTE_COUNT	240578
+SHUFFLE	COPY_MAP_DATA	21306000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	900163
+SHUFFLE	COMPRESS_BYTE_COUNT	254674
+SHUFFLE	COPY_MAP_DATA	15042000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	829918
+SHUFFLE	COMPRESS_BYTE_COUNT	253989
+SHUFFLE	COPY_MAP_DATA	14391000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	809528
+SHUFFLE	COMPRESS_BYTE_COUNT	240836
+SHUFFLE	COPY_MAP_DATA	9077726000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	778940
+SHUFFLE	COMPRESS_BYTE_COUNT	237672
+SHUFFLE	COPY_MAP_DATA	14043000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1040616
+SHUFFLE	COMPRESS_BYTE_COUNT	316820
+SHUFFLE	COPY_MAP_DATA	258078000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	767764
+SHUFFLE	COMPRESS_BYTE_COUNT	233196
+SHUFFLE	COPY_MAP_DATA	189120000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	760212
+SHUFFLE	COMPRESS_BYTE_COUNT	231245
+SHUFFLE	COPY_MAP_DATA	404016000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	734511
+SHUFFLE	COMPRESS_BYTE_COUNT	217469
+SHUFFLE	COPY_MAP_DATA	218403000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	766689
+SHUFFLE	COMPRESS_BYTE_COUNT	226869
+SHUFFLE	COPY_MAP_DATA	33320000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	673090
+SHUFFLE	COMPRESS_BYTE_COUNT	204000
+SHUFFLE	COPY_MAP_DATA	150931000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1431364
+SHUFFLE	COMPRESS_BYTE_COUNT	207583
+SHUFFLE	COPY_MAP_DATA	16162000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	841803
+SHUFFLE	COMPRESS_BYTE_COUNT	249422
+SHUFFLE	COPY_MAP_DATA	21219000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	849084
+SHUFFLE	COMPRESS_BYTE_COUNT	256973
+SHUFFLE	COPY_MAP_DATA	16847000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	804279
+SHUFFLE	COMPRESS_BYTE_COUNT	243332
+SHUFFLE	COPY_MAP_DATA	13171000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	846643
+SHUFFLE	COMPRESS_BYTE_COUNT	249018
+SHUFFLE	COPY_MAP_DATA	105975000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	751664
+SHUFFLE	COMPRESS_BYTE_COUNT	232865
+SHUFFLE	COPY_MAP_DATA	206882000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	935807
+SHUFFLE	COMPRESS_BYTE_COUNT	153344
+SHUFFLE	COPY_MAP_DATA	10994000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	912453
+SHUFFLE	COMPRESS_BYTE_COUNT	243527
+SHUFFLE	COPY_MAP_DATA	14877000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	835428
+SHUFFLE	COMPRESS_BYTE_COUNT	255503
+SHUFFLE	COPY_MAP_DATA	14707000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	817830
+SHUFFLE	COMPRESS_BYTE_COUNT	251043
+SHUFFLE	COPY_MAP_DATA	14185000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	951224
+SHUFFLE	COMPRESS_BYTE_COUNT	285314
+SHUFFLE	COPY_MAP_DATA	15928000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	718188
+SHUFFLE	COMPRESS_BYTE_COUNT	225078
+SHUFFLE	COPY_MAP_DATA	12943000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	686943
+SHUFFLE	COMPRESS_BYTE_COUNT	210145
+SHUFFLE	COPY_MAP_DATA	12402000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	795371
+SHUFFLE	COMPRESS_BYTE_COUNT	227562
+SHUFFLE	COPY_MAP_DATA	12192000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	818795
+SHUFFLE	COMPRESS_BYTE_COUNT	238644
+SHUFFLE	COPY_MAP_DATA	12274000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	791253
+SHUFFLE	COMPRESS_BYTE_COUNT	236585
+SHUFFLE	COPY_MAP_DATA	12383000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	866550
+SHUFFLE	COMPRESS_BYTE_COUNT	286148
+SHUFFLE	COPY_MAP_DATA	25094000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	936964
+SHUFFLE	COMPRESS_BYTE_COUNT	309503
+SHUFFLE	COPY_MAP_DATA	116156000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	804320
+SHUFFLE	COMPRESS_BYTE_COUNT	235401
+SHUFFLE	COPY_MAP_DATA	12967000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	798732
+SHUFFLE	COMPRESS_BYTE_COUNT	249144
+SHUFFLE	COPY_MAP_DATA	14577000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	249218226000
+MERGE	READ_WRITE	243861718000
+MERGE	READ_WRITE_COUNT	2
+MERGE	COMBINE	0
+MERGE	WRITE	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	36502012000
+SORT	READ_WRITE	36381178000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	133076104
+REDUCE	SETUP	289000
+REDUCE	SETUP_MEM	133076104
+REDUCE	CLEANUP	28000
+REDUCE	CLEANUP_MEM	123626176
+REDUCE	TOTAL_RUN	120183130000
+REDUCE	READ	8746760000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	104972911000
+REDUCE	WRITE	48829937000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	72404837
+REDUCE	VALUE_BYTE_COUNT	66077643
+REDUCE	REDUCE_MEM	123626176
+REDUCE	WRITE	12846000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	785022288861
@@ -0,0 +1,1333 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1978804
+SHUFFLE	COMPRESS_BYTE_COUNT	583993
+SHUFFLE	COPY_MAP_DATA	281208000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1963975
+SHUFFLE	COMPRESS_BYTE_COUNT	556040
+SHUFFLE	COPY_MAP_DATA	89516000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1651692
+SHUFFLE	COMPRESS_BYTE_COUNT	464015
+SHUFFLE	COPY_MAP_DATA	36593000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1821548
+SHUFFLE	COMPRESS_BYTE_COUNT	543680
+SHUFFLE	COPY_MAP_DATA	32427000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1926824
+SHUFFLE	COMPRESS_BYTE_COUNT	560969
+SHUFFLE	COPY_MAP_DATA	121652000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2009408
+SHUFFLE	COMPRESS_BYTE_COUNT	572836
+SHUFFLE	COPY_MAP_DATA	32699000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1917528
+SHUFFLE	COMPRESS_BYTE_COUNT	565813
+SHUFFLE	COPY_MAP_DATA	85029000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1939627
+SHUFFLE	COMPRESS_BYTE_COUNT	557338
+SHUFFLE	COPY_MAP_DATA	132783000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1991356
+SHUFFLE	COMPRESS_BYTE_COUNT	577542
+SHUFFLE	COPY_MAP_DATA	51565000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1930105
+SHUFFLE	COMPRESS_BYTE_COUNT	563580
+SHUFFLE	COPY_MAP_DATA	47895000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1934533
+SHUFFLE	COMPRESS_BYTE_COUNT	526880
+SHUFFLE	COPY_MAP_DATA	92455000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1960529
+SHUFFLE	COMPRESS_BYTE_COUNT	562400
+SHUFFLE	COPY_MAP_DATA	96705000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1853837
+SHUFFLE	COMPRESS_BYTE_COUNT	477029
+SHUFFLE	COPY_MAP_DATA	40021000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2016338
+SHUFFLE	COMPRESS_BYTE_COUNT	553061
+SHUFFLE	COPY_MAP_DATA	32359000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1963832
+SHUFFLE	COMPRESS_BYTE_COUNT	572741
+SHUFFLE	COPY_MAP_DATA	85007000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1918225
+SHUFFLE	COMPRESS_BYTE_COUNT	563452
+SHUFFLE	COPY_MAP_DATA	36368000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1849532
+SHUFFLE	COMPRESS_BYTE_COUNT	551214
+SHUFFLE	COPY_MAP_DATA	28610000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1927199
+SHUFFLE	COMPRESS_BYTE_COUNT	569593
+SHUFFLE	COPY_MAP_DATA	254264000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1975579
+SHUFFLE	COMPRESS_BYTE_COUNT	573026
+SHUFFLE	COPY_MAP_DATA	118127000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1801042
+SHUFFLE	COMPRESS_BYTE_COUNT	488547
+SHUFFLE	COPY_MAP_DATA	42937000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2004115
+SHUFFLE	COMPRESS_BYTE_COUNT	566787
+SHUFFLE	COPY_MAP_DATA	31838000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2087201
+SHUFFLE	COMPRESS_BYTE_COUNT	564850
+SHUFFLE	COPY_MAP_DATA	50171000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1982087
+SHUFFLE	COMPRESS_BYTE_COUNT	543441
+SHUFFLE	COPY_MAP_DATA	326870000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2002267
+SHUFFLE	COMPRESS_BYTE_COUNT	576044
+SHUFFLE	COPY_MAP_DATA	272412000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1971894
+SHUFFLE	COMPRESS_BYTE_COUNT	567749
+SHUFFLE	COPY_MAP_DATA	378256000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2016735
+SHUFFLE	COMPRESS_BYTE_COUNT	559711
+SHUFFLE	COPY_MAP_DATA	245377000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2073234
+SHUFFLE	COMPRESS_BYTE_COUNT	581513
+SHUFFLE	COPY_MAP_DATA	58130000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2018852
+SHUFFLE	COMPRESS_BYTE_COUNT	542500
+SHUFFLE	COPY_MAP_DATA	33865000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2044011
+SHUFFLE	COMPRESS_BYTE_COUNT	556545
+SHUFFLE	COPY_MAP_DATA	86021000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2131616
+SHUFFLE	COMPRESS_BYTE_COUNT	582997
+SHUFFLE	COPY_MAP_DATA	436881000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1839979
+SHUFFLE	COMPRESS_BYTE_COUNT	541938
+SHUFFLE	COPY_MAP_DATA	312434000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1882351
+SHUFFLE	COMPRESS_BYTE_COUNT	557791
+SHUFFLE	COPY_MAP_DATA	34079000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1781521
+SHUFFLE	COMPRESS_BYTE_COUNT	539533
+SHUFFLE	COPY_MAP_DATA	28008000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1941583
+SHUFFLE	COMPRESS_BYTE_COUNT	569491
+SHUFFLE	COPY_MAP_DATA	29477000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1860982
+SHUFFLE	COMPRESS_BYTE_COUNT	559859
+SHUFFLE	COPY_MAP_DATA	466357000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1747955
+SHUFFLE	COMPRESS_BYTE_COUNT	529752
+SHUFFLE	COPY_MAP_DATA	26133000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1935311
+SHUFFLE	COMPRESS_BYTE_COUNT	564104
+SHUFFLE	COPY_MAP_DATA	82795000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1985426
+SHUFFLE	COMPRESS_BYTE_COUNT	575266
+SHUFFLE	COPY_MAP_DATA	115409000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1774068
+SHUFFLE	COMPRESS_BYTE_COUNT	542808
+SHUFFLE	COPY_MAP_DATA	44945000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1812492
+SHUFFLE	COMPRESS_BYTE_COUNT	544456
+SHUFFLE	COPY_MAP_DATA	28826000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1773062
+SHUFFLE	COMPRESS_BYTE_COUNT	530324
+SHUFFLE	COPY_MAP_DATA	28602000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1522335
+SHUFFLE	COMPRESS_BYTE_COUNT	452768
+SHUFFLE	COPY_MAP_DATA	164036000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1928850
+SHUFFLE	COMPRESS_BYTE_COUNT	563331
+SHUFFLE	COPY_MAP_DATA	3808968000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1868200
+SHUFFLE	COMPRESS_BYTE_COUNT	556695
+SHUFFLE	COPY_MAP_DATA	29857000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1812225
+SHUFFLE	COMPRESS_BYTE_COUNT	550270
+SHUFFLE	COPY_MAP_DATA	750760000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1631037
+SHUFFLE	COMPRESS_BYTE_COUNT	491896
+SHUFFLE	COPY_MAP_DATA	30584000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1713245
+SHUFFLE	COMPRESS_BYTE_COUNT	532680
+SHUFFLE	COPY_MAP_DATA	165977000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1660255
+SHUFFLE	COMPRESS_BYTE_COUNT	483015
+SHUFFLE	COPY_MAP_DATA	27747000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1795985
+SHUFFLE	COMPRESS_BYTE_COUNT	545472
+SHUFFLE	COPY_MAP_DATA	29141000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2044769
+SHUFFLE	COMPRESS_BYTE_COUNT	468023
+SHUFFLE	COPY_MAP_DATA	27168000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1657782
+SHUFFLE	COMPRESS_BYTE_COUNT	483420
+SHUFFLE	COPY_MAP_DATA	108068000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1819686
+SHUFFLE	COMPRESS_BYTE_COUNT	528795
+SHUFFLE	COPY_MAP_DATA	133320000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1760524
+SHUFFLE	COMPRESS_BYTE_COUNT	507586
+SHUFFLE	COPY_MAP_DATA	376116000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1814755
+SHUFFLE	COMPRESS_BYTE_COUNT	548717
+SHUFFLE	COPY_MAP_DATA	43428000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1817352
+SHUFFLE	COMPRESS_BYTE_COUNT	527471
+SHUFFLE	COPY_MAP_DATA	228354000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1972348
+SHUFFLE	COMPRESS_BYTE_COUNT	560257
+SHUFFLE	COPY_MAP_DATA	30955000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1872222
+SHUFFLE	COMPRESS_BYTE_COUNT	525962
+SHUFFLE	COPY_MAP_DATA	37633000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1924517
+SHUFFLE	COMPRESS_BYTE_COUNT	555103
+SHUFFLE	COPY_MAP_DATA	30251000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1724635
+SHUFFLE	COMPRESS_BYTE_COUNT	520342
+SHUFFLE	COPY_MAP_DATA	31109000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1730164
+SHUFFLE	COMPRESS_BYTE_COUNT	523787
+SHUFFLE	COPY_MAP_DATA	56360000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1614944
+SHUFFLE	COMPRESS_BYTE_COUNT	483244
+SHUFFLE	COPY_MAP_DATA	3949836000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1645802
+SHUFFLE	COMPRESS_BYTE_COUNT	461526
+SHUFFLE	COPY_MAP_DATA	25352000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1628583
+SHUFFLE	COMPRESS_BYTE_COUNT	480844
+SHUFFLE	COPY_MAP_DATA	25836000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1612532
+SHUFFLE	COMPRESS_BYTE_COUNT	478129
+SHUFFLE	COPY_MAP_DATA	26396000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1647094
+SHUFFLE	COMPRESS_BYTE_COUNT	488953
+SHUFFLE	COPY_MAP_DATA	26421000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1862121
+SHUFFLE	COMPRESS_BYTE_COUNT	537988
+SHUFFLE	COPY_MAP_DATA	29179000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1619636
+SHUFFLE	COMPRESS_BYTE_COUNT	468617
+SHUFFLE	COPY_MAP_DATA	25995000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1655465
+SHUFFLE	COMPRESS_BYTE_COUNT	481267
+SHUFFLE	COPY_MAP_DATA	25071000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1688655
+SHUFFLE	COMPRESS_BYTE_COUNT	487766
+SHUFFLE	COPY_MAP_DATA	58431000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1646775
+SHUFFLE	COMPRESS_BYTE_COUNT	462871
+SHUFFLE	COPY_MAP_DATA	54116000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1661515
+SHUFFLE	COMPRESS_BYTE_COUNT	486909
+SHUFFLE	COPY_MAP_DATA	37352000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1732437
+SHUFFLE	COMPRESS_BYTE_COUNT	486925
+SHUFFLE	COPY_MAP_DATA	98852000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1878822
+SHUFFLE	COMPRESS_BYTE_COUNT	572046
+SHUFFLE	COPY_MAP_DATA	196796000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1595509
+SHUFFLE	COMPRESS_BYTE_COUNT	459225
+SHUFFLE	COPY_MAP_DATA	61906000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1480983
+SHUFFLE	COMPRESS_BYTE_COUNT	434983
+SHUFFLE	COPY_MAP_DATA	111385000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1582413
+SHUFFLE	COMPRESS_BYTE_COUNT	467223
+SHUFFLE	COPY_MAP_DATA	53689000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1828886
+SHUFFLE	COMPRESS_BYTE_COUNT	573431
+SHUFFLE	COPY_MAP_DATA	29363000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1787573
+SHUFFLE	COMPRESS_BYTE_COUNT	522223
+SHUFFLE	COPY_MAP_DATA	139324000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1635002
+SHUFFLE	COMPRESS_BYTE_COUNT	482444
+SHUFFLE	COPY_MAP_DATA	89004000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1673076
+SHUFFLE	COMPRESS_BYTE_COUNT	479235
+SHUFFLE	COPY_MAP_DATA	80460000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1627812
+SHUFFLE	COMPRESS_BYTE_COUNT	463657
+SHUFFLE	COPY_MAP_DATA	30841000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1739770
+SHUFFLE	COMPRESS_BYTE_COUNT	491231
+SHUFFLE	COPY_MAP_DATA	30911000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1671409
+SHUFFLE	COMPRESS_BYTE_COUNT	481108
+SHUFFLE	COPY_MAP_DATA	25504000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1700083
+SHUFFLE	COMPRESS_BYTE_COUNT	488469
+SHUFFLE	COPY_MAP_DATA	25942000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1907859
+SHUFFLE	COMPRESS_BYTE_COUNT	551685
+SHUFFLE	COPY_MAP_DATA	29141000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1621411
+SHUFFLE	COMPRESS_BYTE_COUNT	473618
+SHUFFLE	COPY_MAP_DATA	28076000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1745596
+SHUFFLE	COMPRESS_BYTE_COUNT	544147
+SHUFFLE	COPY_MAP_DATA	29547000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	842889
+SHUFFLE	COMPRESS_BYTE_COUNT	236778
+SHUFFLE	COPY_MAP_DATA	416136000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1459758
+SHUFFLE	COMPRESS_BYTE_COUNT	435673
+SHUFFLE	COPY_MAP_DATA	224918000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1596375
+SHUFFLE	COMPRESS_BYTE_COUNT	458213
+SHUFFLE	COPY_MAP_DATA	35152000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1451499
+SHUFFLE	COMPRESS_BYTE_COUNT	433853
+SHUFFLE	COPY_MAP_DATA	24118000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1010950
+SHUFFLE	COMPRESS_BYTE_COUNT	269026
+SHUFFLE	COPY_MAP_DATA	16168000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	859670
+SHUFFLE	COMPRESS_BYTE_COUNT	247129
+SHUFFLE	COPY_MAP_DATA	279572000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	941374
+SHUFFLE	COMPRESS_BYTE_COUNT	270982
+SHUFFLE	COPY_MAP_DATA	82300000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1029069
+SHUFFLE	COMPRESS_BYTE_COUNT	293892
+SHUFFLE	COPY_MAP_DATA	100485000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	792063
+SHUFFLE	COMPRESS_BYTE_COUNT	237096
+SHUFFLE	COPY_MAP_DATA	316081000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1839661
+SHUFFLE	COMPRESS_BYTE_COUNT	496070
+SHUFFLE	COPY_MAP_DATA	311801000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	859631
+SHUFFLE	COMPRESS_BYTE_COUNT	243280
+SHUFFLE	COPY_MAP_DATA	105130000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1532960
+SHUFFLE	COMPRESS_BYTE_COUNT	459652
+SHUFFLE	COPY_MAP_DATA	60976000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1596253
+SHUFFLE	COMPRESS_BYTE_COUNT	466246
+SHUFFLE	COPY_MAP_DATA	47248000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1652737
+SHUFFLE	COMPRESS_BYTE_COUNT	488697
+SHUFFLE	COPY_MAP_DATA	24498000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1512847
+SHUFFLE	COMPRESS_BYTE_COUNT	431328
+SHUFFLE	COPY_MAP_DATA	63341000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1544837
+SHUFFLE	COMPRESS_BYTE_COUNT	443233
+SHUFFLE	COPY_MAP_DATA	31535000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1008307
+SHUFFLE	COMPRESS_BYTE_COUNT	289688
+SHUFFLE	COPY_MAP_DATA	1341585000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1395026
+SHUFFLE	COMPRESS_BYTE_COUNT	418298
+SHUFFLE	COPY_MAP_DATA	23804000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1579606
+SHUFFLE	COMPRESS_BYTE_COUNT	457506
+SHUFFLE	COPY_MAP_DATA	143094000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1515129
+SHUFFLE	COMPRESS_BYTE_COUNT	451128
+SHUFFLE	COPY_MAP_DATA	25035000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	971750
+SHUFFLE	COMPRESS_BYTE_COUNT	285633
+SHUFFLE	COPY_MAP_DATA	690292000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1792138
+SHUFFLE	COMPRESS_BYTE_COUNT	518434
+SHUFFLE	COPY_MAP_DATA	40204000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1751113
+SHUFFLE	COMPRESS_BYTE_COUNT	536105
+SHUFFLE	COPY_MAP_DATA	30411000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1065892
+SHUFFLE	COMPRESS_BYTE_COUNT	296451
+SHUFFLE	COPY_MAP_DATA	815132000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	952962
+SHUFFLE	COMPRESS_BYTE_COUNT	277724
+SHUFFLE	COPY_MAP_DATA	16303000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1677772
+SHUFFLE	COMPRESS_BYTE_COUNT	475654
+SHUFFLE	COPY_MAP_DATA	26917000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2122003
+SHUFFLE	COMPRESS_BYTE_COUNT	399630
+SHUFFLE	COPY_MAP_DATA	25717000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1611400
+SHUFFLE	COMPRESS_BYTE_COUNT	470960
+SHUFFLE	COPY_MAP_DATA	24733000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	953020
+SHUFFLE	COMPRESS_BYTE_COUNT	280758
+SHUFFLE	COPY_MAP_DATA	17862000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1625764
+SHUFFLE	COMPRESS_BYTE_COUNT	497114
+SHUFFLE	COPY_MAP_DATA	25650000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1837638
+SHUFFLE	COMPRESS_BYTE_COUNT	533311
+SHUFFLE	COPY_MAP_DATA	84828000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1491627
+SHUFFLE	COMPRESS_BYTE_COUNT	450573
+SHUFFLE	COPY_MAP_DATA	44409000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1023815
+SHUFFLE	COMPRESS_BYTE_COUNT	296001
+SHUFFLE	COPY_MAP_DATA	18675000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1893464
+SHUFFLE	COMPRESS_BYTE_COUNT	509391
+SHUFFLE	COPY_MAP_DATA	1829019000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	991834
+SHUFFLE	COMPRESS_BYTE_COUNT	293515
+SHUFFLE	COPY_MAP_DATA	44761000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1037711
+SHUFFLE	COMPRESS_BYTE_COUNT	303480
+SHUFFLE	COPY_MAP_DATA	19415000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	959669
+SHUFFLE	COMPRESS_BYTE_COUNT	297848
+SHUFFLE	COPY_MAP_DATA	1521442000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	980915
+SHUFFLE	COMPRESS_BYTE_COUNT	297863
+SHUFFLE	COPY_MAP_DATA	51400000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	991429
+SHUFFLE	COMPRESS_BYTE_COUNT	292100
+SHUFFLE	COPY_MAP_DATA	18118000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	980004
+SHUFFLE	COMPRESS_BYTE_COUNT	293747
+SHUFFLE	COPY_MAP_DATA	17869000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	962785
+SHUFFLE	COMPRESS_BYTE_COUNT	268150
+SHUFFLE	COPY_MAP_DATA	16342000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	997045
+SHUFFLE	COMPRESS_BYTE_COUNT	300197
+SHUFFLE	COPY_MAP_DATA	17786000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	980527
+SHUFFLE	COMPRESS_BYTE_COUNT	293378
+SHUFFLE	COPY_MAP_DATA	37732000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1035706
+SHUFFLE	COMPRESS_BYTE_COUNT	298636
+SHUFFLE	COPY_MAP_DATA	47763000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	992922
+SHUFFLE	COMPRESS_BYTE_COUNT	295930
+SHUFFLE	COPY_MAP_DATA	26402000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	987259
+SHUFFLE	COMPRESS_BYTE_COUNT	292280
+SHUFFLE	COPY_MAP_DATA	24967000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1028495
+SHUFFLE	COMPRESS_BYTE_COUNT	303794
+SHUFFLE	COPY_MAP_DATA	17850000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	972068
+SHUFFLE	COMPRESS_BYTE_COUNT	296790
+SHUFFLE	COPY_MAP_DATA	17221000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1012373
+SHUFFLE	COMPRESS_BYTE_COUNT	295421
+SHUFFLE	COPY_MAP_DATA	57425000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	984601
+SHUFFLE	COMPRESS_BYTE_COUNT	294364
+SHUFFLE	COPY_MAP_DATA	138135000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1074830
+SHUFFLE	COMPRESS_BYTE_COUNT	296838
+SHUFFLE	COPY_MAP_DATA	1867469000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	990464
+SHUFFLE	COMPRESS_BYTE_COUNT	297945
+SHUFFLE	COPY_MAP_DATA	17675000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	967157
+SHUFFLE	COMPRESS_BYTE_COUNT	288725
+SHUFFLE	COPY_MAP_DATA	16486000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1081402
+SHUFFLE	COMPRESS_BYTE_COUNT	316951
+SHUFFLE	COPY_MAP_DATA	27553000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	971531
+SHUFFLE	COMPRESS_BYTE_COUNT	299384
+SHUFFLE	COPY_MAP_DATA	18413000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	938978
+SHUFFLE	COMPRESS_BYTE_COUNT	290358
+SHUFFLE	COPY_MAP_DATA	73747000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	956640
+SHUFFLE	COMPRESS_BYTE_COUNT	281260
+SHUFFLE	COPY_MAP_DATA	30190000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	987295
+SHUFFLE	COMPRESS_BYTE_COUNT	300305
+SHUFFLE	COPY_MAP_DATA	584133000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	979249
+SHUFFLE	COMPRESS_BYTE_COUNT	298552
+SHUFFLE	COPY_MAP_DATA	25557000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	994313
+SHUFFLE	COMPRESS_BYTE_COUNT	304189
+SHUFFLE	COPY_MAP_DATA	15861000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1093907
+SHUFFLE	COMPRESS_BYTE_COUNT	307404
+SHUFFLE	COPY_MAP_DATA	58683000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	986992
+SHUFFLE	COMPRESS_BYTE_COUNT	298614
+SHUFFLE	COPY_MAP_DATA	493703000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	966404
+SHUFFLE	COMPRESS_BYTE_COUNT	292630
+SHUFFLE	COPY_MAP_DATA	19189000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	972907
+SHUFFLE	COMPRESS_BYTE_COUNT	293441
+SHUFFLE	COPY_MAP_DATA	17165000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1007275
+SHUFFLE	COMPRESS_BYTE_COUNT	308741
+SHUFFLE	COPY_MAP_DATA	173348000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	976718
+SHUFFLE	COMPRESS_BYTE_COUNT	290599
+SHUFFLE	COPY_MAP_DATA	17762000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	990227
+SHUFFLE	COMPRESS_BYTE_COUNT	300845
+SHUFFLE	COPY_MAP_DATA	709963000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	966722
+SHUFFLE	COMPRESS_BYTE_COUNT	287175
+SHUFFLE	COPY_MAP_DATA	544055000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	922352
+SHUFFLE	COMPRESS_BYTE_COUNT	289464
+SHUFFLE	COPY_MAP_DATA	17403000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	979640
+SHUFFLE	COMPRESS_BYTE_COUNT	300071
+SHUFFLE	COPY_MAP_DATA	17691000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	960358
+SHUFFLE	COMPRESS_BYTE_COUNT	293080
+SHUFFLE	COPY_MAP_DATA	366934000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	943361
+SHUFFLE	COMPRESS_BYTE_COUNT	294389
+SHUFFLE	COPY_MAP_DATA	1705219000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	981629
+SHUFFLE	COMPRESS_BYTE_COUNT	300236
+SHUFFLE	COPY_MAP_DATA	25427000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1024911
+SHUFFLE	COMPRESS_BYTE_COUNT	287127
+SHUFFLE	COPY_MAP_DATA	123815000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1087643
+SHUFFLE	COMPRESS_BYTE_COUNT	280754
+SHUFFLE	COPY_MAP_DATA	48223000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	941357
+SHUFFLE	COMPRESS_BYTE_COUNT	286799
+SHUFFLE	COPY_MAP_DATA	17403000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1003456
+SHUFFLE	COMPRESS_BYTE_COUNT	293489
+SHUFFLE	COPY_MAP_DATA	18315000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	976842
+SHUFFLE	COMPRESS_BYTE_COUNT	299114
+SHUFFLE	COPY_MAP_DATA	17468000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1013360
+SHUFFLE	COMPRESS_BYTE_COUNT	305112
+SHUFFLE	COPY_MAP_DATA	106957000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	958935
+SHUFFLE	COMPRESS_BYTE_COUNT	296455
+SHUFFLE	COPY_MAP_DATA	17101000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1000661
+SHUFFLE	COMPRESS_BYTE_COUNT	299128
+SHUFFLE	COPY_MAP_DATA	17449000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	939880
+SHUFFLE	COMPRESS_BYTE_COUNT	285294
+SHUFFLE	COPY_MAP_DATA	21723000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	915910
+SHUFFLE	COMPRESS_BYTE_COUNT	289041
+SHUFFLE	COPY_MAP_DATA	231426000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	993952
+SHUFFLE	COMPRESS_BYTE_COUNT	296328
+SHUFFLE	COPY_MAP_DATA	509421000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	968909
+SHUFFLE	COMPRESS_BYTE_COUNT	294916
+SHUFFLE	COPY_MAP_DATA	17457000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	917765
+SHUFFLE	COMPRESS_BYTE_COUNT	293306
+SHUFFLE	COPY_MAP_DATA	164671000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	947561
+SHUFFLE	COMPRESS_BYTE_COUNT	293619
+SHUFFLE	COPY_MAP_DATA	62364000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	893097
+SHUFFLE	COMPRESS_BYTE_COUNT	276806
+SHUFFLE	COPY_MAP_DATA	30842000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	982650
+SHUFFLE	COMPRESS_BYTE_COUNT	298887
+SHUFFLE	COPY_MAP_DATA	470536000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	913941
+SHUFFLE	COMPRESS_BYTE_COUNT	283574
+SHUFFLE	COPY_MAP_DATA	21456000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1011805
+SHUFFLE	COMPRESS_BYTE_COUNT	303367
+SHUFFLE	COPY_MAP_DATA	27205000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	925700
+SHUFFLE	COMPRESS_BYTE_COUNT	285325
+SHUFFLE	COPY_MAP_DATA	46865000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	967879
+SHUFFLE	COMPRESS_BYTE_COUNT	301819
+SHUFFLE	COPY_MAP_DATA	27123000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	882776
+SHUFFLE	COMPRESS_BYTE_COUNT	273234
+SHUFFLE	COPY_MAP_DATA	191255000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	974169
+SHUFFLE	COMPRESS_BYTE_COUNT	291483
+SHUFFLE	COPY_MAP_DATA	164967000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	935593
+SHUFFLE	COMPRESS_BYTE_COUNT	289545
+SHUFFLE	COPY_MAP_DATA	17292000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	894738
+SHUFFLE	COMPRESS_BYTE_COUNT	277029
+SHUFFLE	COPY_MAP_DATA	17239000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	918886
+SHUFFLE	COMPRESS_BYTE_COUNT	288931
+SHUFFLE	COPY_MAP_DATA	18525000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	889875
+SHUFFLE	COMPRESS_BYTE_COUNT	281990
+SHUFFLE	COPY_MAP_DATA	18543000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	898624
+SHUFFLE	COMPRESS_BYTE_COUNT	275328
+SHUFFLE	COPY_MAP_DATA	99899000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	968494
+SHUFFLE	COMPRESS_BYTE_COUNT	293251
+SHUFFLE	COPY_MAP_DATA	17542000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	893608
+SHUFFLE	COMPRESS_BYTE_COUNT	276816
+SHUFFLE	COPY_MAP_DATA	33493000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	884583
+SHUFFLE	COMPRESS_BYTE_COUNT	279740
+SHUFFLE	COPY_MAP_DATA	131135000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	898249
+SHUFFLE	COMPRESS_BYTE_COUNT	286810
+SHUFFLE	COPY_MAP_DATA	16439000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	945074
+SHUFFLE	COMPRESS_BYTE_COUNT	294218
+SHUFFLE	COPY_MAP_DATA	320055000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	923747
+SHUFFLE	COMPRESS_BYTE_COUNT	291525
+SHUFFLE	COPY_MAP_DATA	317156000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	942502
+SHUFFLE	COMPRESS_BYTE_COUNT	293837
+SHUFFLE	COPY_MAP_DATA	347053000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	874872
+SHUFFLE	COMPRESS_BYTE_COUNT	274800
+SHUFFLE	COPY_MAP_DATA	18390000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	989256
+SHUFFLE	COMPRESS_BYTE_COUNT	301053
+SHUFFLE	COPY_MAP_DATA	121610000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	897738
+SHUFFLE	COMPRESS_BYTE_COUNT	280524
+SHUFFLE	COPY_MAP_DATA	225286000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	933435
+SHUFFLE	COMPRESS_BYTE_COUNT	290730
+SHUFFLE	COPY_MAP_DATA	30931000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	907337
+SHUFFLE	COMPRESS_BYTE_COUNT	283986
+SHUFFLE	COPY_MAP_DATA	1520481000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	856305
+SHUFFLE	COMPRESS_BYTE_COUNT	269885
+SHUFFLE	COPY_MAP_DATA	266654000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	920318
+SHUFFLE	COMPRESS_BYTE_COUNT	276171
+SHUFFLE	COPY_MAP_DATA	312724000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	849765
+SHUFFLE	COMPRESS_BYTE_COUNT	265506
+SHUFFLE	COPY_MAP_DATA	133467000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	873864
+SHUFFLE	COMPRESS_BYTE_COUNT	257995
+SHUFFLE	COPY_MAP_DATA	254101000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	872806
+SHUFFLE	COMPRESS_BYTE_COUNT	277154
+SHUFFLE	COPY_MAP_DATA	440065000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	936535
+SHUFFLE	COMPRESS_BYTE_COUNT	288035
+SHUFFLE	COPY_MAP_DATA	18124000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	865727
+SHUFFLE	COMPRESS_BYTE_COUNT	268193
+SHUFFLE	COPY_MAP_DATA	158242000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	926812
+SHUFFLE	COMPRESS_BYTE_COUNT	289050
+SHUFFLE	COPY_MAP_DATA	218518000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	827984
+SHUFFLE	COMPRESS_BYTE_COUNT	253179
+SHUFFLE	COPY_MAP_DATA	32702000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	880819
+SHUFFLE	COMPRESS_BYTE_COUNT	260033
+SHUFFLE	COPY_MAP_DATA	20756000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	834240
+SHUFFLE	COMPRESS_BYTE_COUNT	255196
+SHUFFLE	COPY_MAP_DATA	16203000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	848088
+SHUFFLE	COMPRESS_BYTE_COUNT	269994
+SHUFFLE	COPY_MAP_DATA	15826000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	863374
+SHUFFLE	COMPRESS_BYTE_COUNT	270210
+SHUFFLE	COPY_MAP_DATA	189110000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	891010
+SHUFFLE	COMPRESS_BYTE_COUNT	277569
+SHUFFLE	COPY_MAP_DATA	19422000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	960832
+SHUFFLE	COMPRESS_BYTE_COUNT	291131
+SHUFFLE	COPY_MAP_DATA	76646000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	847390
+SHUFFLE	COMPRESS_BYTE_COUNT	269973
+SHUFFLE	COPY_MAP_DATA	16397000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	794878
+SHUFFLE	COMPRESS_BYTE_COUNT	246386
+SHUFFLE	COPY_MAP_DATA	15810000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	852292
+SHUFFLE	COMPRESS_BYTE_COUNT	251919
+SHUFFLE	COPY_MAP_DATA	81077000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	841594
+SHUFFLE	COMPRESS_BYTE_COUNT	257523
+SHUFFLE	COPY_MAP_DATA	25459000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1011518
+SHUFFLE	COMPRESS_BYTE_COUNT	288753
+SHUFFLE	COPY_MAP_DATA	292542000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	840441
+SHUFFLE	COMPRESS_BYTE_COUNT	270029
+SHUFFLE	COPY_MAP_DATA	1423084000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	848533
+SHUFFLE	COMPRESS_BYTE_COUNT	263694
+SHUFFLE	COPY_MAP_DATA	57674000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	819739
+SHUFFLE	COMPRESS_BYTE_COUNT	256958
+SHUFFLE	COPY_MAP_DATA	96707000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	833707
+SHUFFLE	COMPRESS_BYTE_COUNT	251700
+SHUFFLE	COPY_MAP_DATA	92090000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	964114
+SHUFFLE	COMPRESS_BYTE_COUNT	290258
+SHUFFLE	COPY_MAP_DATA	17433000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	827191
+SHUFFLE	COMPRESS_BYTE_COUNT	250111
+SHUFFLE	COPY_MAP_DATA	116627000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	783116
+SHUFFLE	COMPRESS_BYTE_COUNT	246310
+SHUFFLE	COPY_MAP_DATA	4144974000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	825682
+SHUFFLE	COMPRESS_BYTE_COUNT	244134
+SHUFFLE	COPY_MAP_DATA	15330000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	855574
+SHUFFLE	COMPRESS_BYTE_COUNT	258612
+SHUFFLE	COPY_MAP_DATA	24677000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	927599
+SHUFFLE	COMPRESS_BYTE_COUNT	269127
+SHUFFLE	COPY_MAP_DATA	45821000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	764161
+SHUFFLE	COMPRESS_BYTE_COUNT	236587
+SHUFFLE	COPY_MAP_DATA	413377000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1079579
+SHUFFLE	COMPRESS_BYTE_COUNT	238790
+SHUFFLE	COPY_MAP_DATA	587104000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	886662
+SHUFFLE	COMPRESS_BYTE_COUNT	269321
+SHUFFLE	COPY_MAP_DATA	17719000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	941805
+SHUFFLE	COMPRESS_BYTE_COUNT	282077
+SHUFFLE	COPY_MAP_DATA	536986000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	800561
+SHUFFLE	COMPRESS_BYTE_COUNT	249629
+SHUFFLE	COPY_MAP_DATA	396166000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	858537
+SHUFFLE	COMPRESS_BYTE_COUNT	254586
+SHUFFLE	COPY_MAP_DATA	105137000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	756238
+SHUFFLE	COMPRESS_BYTE_COUNT	231925
+SHUFFLE	COPY_MAP_DATA	1385091000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	755703
+SHUFFLE	COMPRESS_BYTE_COUNT	229068
+SHUFFLE	COPY_MAP_DATA	14318000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	829785
+SHUFFLE	COMPRESS_BYTE_COUNT	254514
+SHUFFLE	COPY_MAP_DATA	419740000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	820621
+SHUFFLE	COMPRESS_BYTE_COUNT	253314
+SHUFFLE	COPY_MAP_DATA	15940000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	772214
+SHUFFLE	COMPRESS_BYTE_COUNT	235582
+SHUFFLE	COPY_MAP_DATA	90173000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	850661
+SHUFFLE	COMPRESS_BYTE_COUNT	254923
+SHUFFLE	COPY_MAP_DATA	15321000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	765765
+SHUFFLE	COMPRESS_BYTE_COUNT	234573
+SHUFFLE	COPY_MAP_DATA	78763000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	782506
+SHUFFLE	COMPRESS_BYTE_COUNT	244436
+SHUFFLE	COPY_MAP_DATA	625968000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	816782
+SHUFFLE	COMPRESS_BYTE_COUNT	254794
+SHUFFLE	COPY_MAP_DATA	664119000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	823544
+SHUFFLE	COMPRESS_BYTE_COUNT	246777
+SHUFFLE	COPY_MAP_DATA	15322000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	800050
+SHUFFLE	COMPRESS_BYTE_COUNT	238304
+SHUFFLE	COPY_MAP_DATA	15611000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	935797
+SHUFFLE	COMPRESS_BYTE_COUNT	277963
+SHUFFLE	COPY_MAP_DATA	161863000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	827698
+SHUFFLE	COMPRESS_BYTE_COUNT	259460
+SHUFFLE	COPY_MAP_DATA	4130565000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	824044
+SHUFFLE	COMPRESS_BYTE_COUNT	248944
+SHUFFLE	COPY_MAP_DATA	15515000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	832605
+SHUFFLE	COMPRESS_BYTE_COUNT	247012
+SHUFFLE	COPY_MAP_DATA	15664000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	851778
+SHUFFLE	COMPRESS_BYTE_COUNT	262254
+SHUFFLE	COPY_MAP_DATA	1171366000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	827641
+SHUFFLE	COMPRESS_BYTE_COUNT	249769
+SHUFFLE	COPY_MAP_DATA	636427000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	794485
+SHUFFLE	COMPRESS_BYTE_COUNT	226391
+SHUFFLE	COPY_MAP_DATA	448800000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1122586
+SHUFFLE	COMPRESS_BYTE_COUNT	356623
+SHUFFLE	COPY_MAP_DATA	22016000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	732658
+SHUFFLE	COMPRESS_BYTE_COUNT	229546
+SHUFFLE	COPY_MAP_DATA	15271000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	839808
+SHUFFLE	COMPRESS_BYTE_COUNT	246013
+SHUFFLE	COPY_MAP_DATA	462587000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	870442
+SHUFFLE	COMPRESS_BYTE_COUNT	263371
+SHUFFLE	COPY_MAP_DATA	78922000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	721510
+SHUFFLE	COMPRESS_BYTE_COUNT	223569
+SHUFFLE	COPY_MAP_DATA	12526000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	912131
+SHUFFLE	COMPRESS_BYTE_COUNT	258175
+SHUFFLE	COPY_MAP_DATA	14958000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	758371
+SHUFFLE	COMPRESS_BYTE_COUNT	234676
+SHUFFLE	COPY_MAP_DATA	443435000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	918660
+SHUFFLE	COMPRESS_BYTE_COUNT	267382
+SHUFFLE	COPY_MAP_DATA	38473000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	862499
+SHUFFLE	COMPRESS_BYTE_COUNT	266991
+SHUFFLE	COPY_MAP_DATA	15605000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	805502
+SHUFFLE	COMPRESS_BYTE_COUNT	246725
+SHUFFLE	COPY_MAP_DATA	202620000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	959154
+SHUFFLE	COMPRESS_BYTE_COUNT	282178
+SHUFFLE	COPY_MAP_DATA	8038853000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	789527
+SHUFFLE	COMPRESS_BYTE_COUNT	237571
+SHUFFLE	COPY_MAP_DATA	14424000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	743543
+SHUFFLE	COMPRESS_BYTE_COUNT	225149
+SHUFFLE	COPY_MAP_DATA	13564000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	871875
+SHUFFLE	COMPRESS_BYTE_COUNT	247130
+SHUFFLE	COPY_MAP_DATA	129310000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	787033
+SHUFFLE	COMPRESS_BYTE_COUNT	238780
+SHUFFLE	COPY_MAP_DATA	13858000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	787248
+SHUFFLE	COMPRESS_BYTE_COUNT	240182
+SHUFFLE	COPY_MAP_DATA	118508000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	770752
+SHUFFLE	COMPRESS_BYTE_COUNT	234797
+SHUFFLE	COPY_MAP_DATA	15104000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	750123
+SHUFFLE	COMPRESS_BYTE_COUNT	233082
+SHUFFLE	COPY_MAP_DATA	13731000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	811520
+SHUFFLE	COMPRESS_BYTE_COUNT	241485
+SHUFFLE	COPY_MAP_DATA	15251000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	791075
+SHUFFLE	COMPRESS_BYTE_COUNT	240487
+SHUFFLE	COPY_MAP_DATA	51649000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	796482
+SHUFFLE	COMPRESS_BYTE_COUNT	236431
+SHUFFLE	COPY_MAP_DATA	111692000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	729991
+SHUFFLE	COMPRESS_BYTE_COUNT	225261
+SHUFFLE	COPY_MAP_DATA	226375000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	715220
+SHUFFLE	COMPRESS_BYTE_COUNT	216119
+SHUFFLE	COPY_MAP_DATA	14045000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	800158
+SHUFFLE	COMPRESS_BYTE_COUNT	236746
+SHUFFLE	COPY_MAP_DATA	374089000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	816294
+SHUFFLE	COMPRESS_BYTE_COUNT	237721
+SHUFFLE	COPY_MAP_DATA	13715000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	881645
+SHUFFLE	COMPRESS_BYTE_COUNT	269431
+SHUFFLE	COPY_MAP_DATA	84413000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1028327
+SHUFFLE	COMPRESS_BYTE_COUNT	338552
+SHUFFLE	COPY_MAP_DATA	18001000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	876410
+SHUFFLE	COMPRESS_BYTE_COUNT	254397
+SHUFFLE	COPY_MAP_DATA	14562000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	845754
+SHUFFLE	COMPRESS_BYTE_COUNT	239073
+SHUFFLE	COPY_MAP_DATA	584777000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	787079
+SHUFFLE	COMPRESS_BYTE_COUNT	239328
+SHUFFLE	COPY_MAP_DATA	255251000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	753359
+SHUFFLE	COMPRESS_BYTE_COUNT	225869
+SHUFFLE	COPY_MAP_DATA	35541000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	953564
+SHUFFLE	COMPRESS_BYTE_COUNT	276284
+SHUFFLE	COPY_MAP_DATA	21863000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	823675
+SHUFFLE	COMPRESS_BYTE_COUNT	252018
+SHUFFLE	COPY_MAP_DATA	15365000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	871253
+SHUFFLE	COMPRESS_BYTE_COUNT	260506
+SHUFFLE	COPY_MAP_DATA	109566000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	869938
+SHUFFLE	COMPRESS_BYTE_COUNT	259469
+SHUFFLE	COPY_MAP_DATA	16738000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	785575
+SHUFFLE	COMPRESS_BYTE_COUNT	235762
+SHUFFLE	COPY_MAP_DATA	14356000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	717084
+SHUFFLE	COMPRESS_BYTE_COUNT	226027
+SHUFFLE	COPY_MAP_DATA	213448000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	832118
+SHUFFLE	COMPRESS_BYTE_COUNT	252517
+SHUFFLE	COPY_MAP_DATA	16132000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	801609
+SHUFFLE	COMPRESS_BYTE_COUNT	240418
+SHUFFLE	COPY_MAP_DATA	56697000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	902915
+SHUFFLE	COMPRESS_BYTE_COUNT	266474
+SHUFFLE	COPY_MAP_DATA	17839000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	942912
+SHUFFLE	COMPRESS_BYTE_COUNT	266372
+SHUFFLE	COPY_MAP_DATA	184165000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	778610
+SHUFFLE	COMPRESS_BYTE_COUNT	238592
+SHUFFLE	COPY_MAP_DATA	13917000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	777999
+SHUFFLE	COMPRESS_BYTE_COUNT	233507
+SHUFFLE	COPY_MAP_DATA	35121000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	752672
+SHUFFLE	COMPRESS_BYTE_COUNT	231926
+SHUFFLE	COPY_MAP_DATA	14424000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	959417
+SHUFFLE	COMPRESS_BYTE_COUNT	264048
+SHUFFLE	COPY_MAP_DATA	302804000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	832986
+SHUFFLE	COMPRESS_BYTE_COUNT	254274
+SHUFFLE	COPY_MAP_DATA	29639000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	845887
+SHUFFLE	COMPRESS_BYTE_COUNT	244343
+SHUFFLE	COPY_MAP_DATA	94096000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	745745
+SHUFFLE	COMPRESS_BYTE_COUNT	229292
+SHUFFLE	COPY_MAP_DATA	14758000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	765089
+SHUFFLE	COMPRESS_BYTE_COUNT	233597
+SHUFFLE	COPY_MAP_DATA	14464000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1111379
+SHUFFLE	COMPRESS_BYTE_COUNT	329231
+SHUFFLE	COPY_MAP_DATA	135543000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	695599
+SHUFFLE	COMPRESS_BYTE_COUNT	214895
+SHUFFLE	COPY_MAP_DATA	13666000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	778705
+SHUFFLE	COMPRESS_BYTE_COUNT	225402
+SHUFFLE	COPY_MAP_DATA	14030000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	727274
+SHUFFLE	COMPRESS_BYTE_COUNT	208914
+SHUFFLE	COPY_MAP_DATA	12836000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	850510
+SHUFFLE	COMPRESS_BYTE_COUNT	253687
+SHUFFLE	COPY_MAP_DATA	47040000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	745883
+SHUFFLE	COMPRESS_BYTE_COUNT	234775
+SHUFFLE	COPY_MAP_DATA	15084000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	957128
+SHUFFLE	COMPRESS_BYTE_COUNT	194325
+SHUFFLE	COPY_MAP_DATA	13433000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	784550
+SHUFFLE	COMPRESS_BYTE_COUNT	241878
+SHUFFLE	COPY_MAP_DATA	26384000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	717084
+SHUFFLE	COMPRESS_BYTE_COUNT	226027
+SHUFFLE	COPY_MAP_DATA	14590000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	737840
+SHUFFLE	COMPRESS_BYTE_COUNT	218728
+SHUFFLE	COPY_MAP_DATA	14570000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	967702
+SHUFFLE	COMPRESS_BYTE_COUNT	289836
+SHUFFLE	COPY_MAP_DATA	16689000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	832792
+SHUFFLE	COMPRESS_BYTE_COUNT	246797
+SHUFFLE	COPY_MAP_DATA	14439000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	899069
+SHUFFLE	COMPRESS_BYTE_COUNT	263391
+SHUFFLE	COPY_MAP_DATA	15508000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1042426
+SHUFFLE	COMPRESS_BYTE_COUNT	167349
+SHUFFLE	COPY_MAP_DATA	11704000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	750042
+SHUFFLE	COMPRESS_BYTE_COUNT	230300
+SHUFFLE	COPY_MAP_DATA	14021000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	880246
+SHUFFLE	COMPRESS_BYTE_COUNT	248570
+SHUFFLE	COPY_MAP_DATA	207381000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	712034
+SHUFFLE	COMPRESS_BYTE_COUNT	218695
+SHUFFLE	COPY_MAP_DATA	12515000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	779595
+SHUFFLE	COMPRESS_BYTE_COUNT	244692
+SHUFFLE	COPY_MAP_DATA	15697000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	990551
+SHUFFLE	COMPRESS_BYTE_COUNT	262244
+SHUFFLE	COPY_MAP_DATA	20936000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	642356
+SHUFFLE	COMPRESS_BYTE_COUNT	201244
+SHUFFLE	COPY_MAP_DATA	12084000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	962482
+SHUFFLE	COMPRESS_BYTE_COUNT	313635
+SHUFFLE	COPY_MAP_DATA	18307000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	888616
+SHUFFLE	COMPRESS_BYTE_COUNT	284946
+SHUFFLE	COPY_MAP_DATA	16390000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	801296
+SHUFFLE	COMPRESS_BYTE_COUNT	232465
+SHUFFLE	COPY_MAP_DATA	14948000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	806027
+SHUFFLE	COMPRESS_BYTE_COUNT	251642
+SHUFFLE	COPY_MAP_DATA	15149000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	260418975000
+MERGE	READ_WRITE	259115293000
+MERGE	READ_WRITE_COUNT	2
+MERGE	COMBINE	0
+MERGE	WRITE	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	37674474000
+SORT	READ_WRITE	37519253000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	198710416
+REDUCE	SETUP	303000
+REDUCE	SETUP_MEM	198710416
+REDUCE	CLEANUP	37000
+REDUCE	CLEANUP_MEM	155612800
+REDUCE	TOTAL_RUN	101026873000
+REDUCE	READ	8636096000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	86247879000
+REDUCE	WRITE	28834506000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	72855542
+REDUCE	VALUE_BYTE_COUNT	66209068
+REDUCE	REDUCE_MEM	155612800
+REDUCE	WRITE	9503000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	769761837000
@@ -0,0 +1,1333 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1862487
+SHUFFLE	COMPRESS_BYTE_COUNT	545285
+SHUFFLE	COPY_MAP_DATA	317385000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1613665
+SHUFFLE	COMPRESS_BYTE_COUNT	455606
+SHUFFLE	COPY_MAP_DATA	28102000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1966215
+SHUFFLE	COMPRESS_BYTE_COUNT	546577
+SHUFFLE	COPY_MAP_DATA	105414000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1909414
+SHUFFLE	COMPRESS_BYTE_COUNT	559821
+SHUFFLE	COPY_MAP_DATA	88646000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1861874
+SHUFFLE	COMPRESS_BYTE_COUNT	554273
+SHUFFLE	COPY_MAP_DATA	38533000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1928897
+SHUFFLE	COMPRESS_BYTE_COUNT	540287
+SHUFFLE	COPY_MAP_DATA	896892000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1784360
+SHUFFLE	COMPRESS_BYTE_COUNT	539372
+SHUFFLE	COPY_MAP_DATA	66830000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1890301
+SHUFFLE	COMPRESS_BYTE_COUNT	546303
+SHUFFLE	COPY_MAP_DATA	41023000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1863375
+SHUFFLE	COMPRESS_BYTE_COUNT	543824
+SHUFFLE	COPY_MAP_DATA	33662000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1943881
+SHUFFLE	COMPRESS_BYTE_COUNT	559017
+SHUFFLE	COPY_MAP_DATA	44933000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1775476
+SHUFFLE	COMPRESS_BYTE_COUNT	460952
+SHUFFLE	COPY_MAP_DATA	55406000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1827488
+SHUFFLE	COMPRESS_BYTE_COUNT	517342
+SHUFFLE	COPY_MAP_DATA	42419000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1896741
+SHUFFLE	COMPRESS_BYTE_COUNT	567799
+SHUFFLE	COPY_MAP_DATA	81073000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1937900
+SHUFFLE	COMPRESS_BYTE_COUNT	543633
+SHUFFLE	COPY_MAP_DATA	133256000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1871576
+SHUFFLE	COMPRESS_BYTE_COUNT	541313
+SHUFFLE	COPY_MAP_DATA	176316000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1902549
+SHUFFLE	COMPRESS_BYTE_COUNT	559654
+SHUFFLE	COPY_MAP_DATA	40856000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2011332
+SHUFFLE	COMPRESS_BYTE_COUNT	538038
+SHUFFLE	COPY_MAP_DATA	34056000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1877217
+SHUFFLE	COMPRESS_BYTE_COUNT	560822
+SHUFFLE	COPY_MAP_DATA	127644000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1875551
+SHUFFLE	COMPRESS_BYTE_COUNT	550671
+SHUFFLE	COPY_MAP_DATA	40165000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1891082
+SHUFFLE	COMPRESS_BYTE_COUNT	559336
+SHUFFLE	COPY_MAP_DATA	30785000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1754772
+SHUFFLE	COMPRESS_BYTE_COUNT	481554
+SHUFFLE	COPY_MAP_DATA	86243000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1994970
+SHUFFLE	COMPRESS_BYTE_COUNT	543490
+SHUFFLE	COPY_MAP_DATA	29862000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2117377
+SHUFFLE	COMPRESS_BYTE_COUNT	576218
+SHUFFLE	COPY_MAP_DATA	94552000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1940260
+SHUFFLE	COMPRESS_BYTE_COUNT	549706
+SHUFFLE	COPY_MAP_DATA	80234000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2027041
+SHUFFLE	COMPRESS_BYTE_COUNT	553145
+SHUFFLE	COPY_MAP_DATA	28590000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1958809
+SHUFFLE	COMPRESS_BYTE_COUNT	561473
+SHUFFLE	COPY_MAP_DATA	39694000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1874908
+SHUFFLE	COMPRESS_BYTE_COUNT	554442
+SHUFFLE	COPY_MAP_DATA	29583000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1898786
+SHUFFLE	COMPRESS_BYTE_COUNT	553854
+SHUFFLE	COPY_MAP_DATA	186294000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2037661
+SHUFFLE	COMPRESS_BYTE_COUNT	551778
+SHUFFLE	COPY_MAP_DATA	84105000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1857619
+SHUFFLE	COMPRESS_BYTE_COUNT	553135
+SHUFFLE	COPY_MAP_DATA	30198000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1770935
+SHUFFLE	COMPRESS_BYTE_COUNT	524973
+SHUFFLE	COPY_MAP_DATA	260672000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1803610
+SHUFFLE	COMPRESS_BYTE_COUNT	545659
+SHUFFLE	COPY_MAP_DATA	1679153000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1795068
+SHUFFLE	COMPRESS_BYTE_COUNT	543021
+SHUFFLE	COPY_MAP_DATA	28168000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1709024
+SHUFFLE	COMPRESS_BYTE_COUNT	519061
+SHUFFLE	COPY_MAP_DATA	32460000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1770811
+SHUFFLE	COMPRESS_BYTE_COUNT	524934
+SHUFFLE	COPY_MAP_DATA	27069000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1925634
+SHUFFLE	COMPRESS_BYTE_COUNT	559067
+SHUFFLE	COPY_MAP_DATA	38164000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1723474
+SHUFFLE	COMPRESS_BYTE_COUNT	526828
+SHUFFLE	COPY_MAP_DATA	337375000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1902487
+SHUFFLE	COMPRESS_BYTE_COUNT	562159
+SHUFFLE	COPY_MAP_DATA	28006000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1746286
+SHUFFLE	COMPRESS_BYTE_COUNT	531973
+SHUFFLE	COPY_MAP_DATA	28753000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1838105
+SHUFFLE	COMPRESS_BYTE_COUNT	548641
+SHUFFLE	COPY_MAP_DATA	38787000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1547260
+SHUFFLE	COMPRESS_BYTE_COUNT	454316
+SHUFFLE	COPY_MAP_DATA	276631000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1696155
+SHUFFLE	COMPRESS_BYTE_COUNT	492196
+SHUFFLE	COPY_MAP_DATA	26495000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1579253
+SHUFFLE	COMPRESS_BYTE_COUNT	468452
+SHUFFLE	COPY_MAP_DATA	27168000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1902113
+SHUFFLE	COMPRESS_BYTE_COUNT	557206
+SHUFFLE	COPY_MAP_DATA	29147000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1809794
+SHUFFLE	COMPRESS_BYTE_COUNT	538699
+SHUFFLE	COPY_MAP_DATA	27140000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1654387
+SHUFFLE	COMPRESS_BYTE_COUNT	516255
+SHUFFLE	COPY_MAP_DATA	39824000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1797065
+SHUFFLE	COMPRESS_BYTE_COUNT	541917
+SHUFFLE	COPY_MAP_DATA	239832000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1866256
+SHUFFLE	COMPRESS_BYTE_COUNT	550743
+SHUFFLE	COPY_MAP_DATA	2359577000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1785136
+SHUFFLE	COMPRESS_BYTE_COUNT	534318
+SHUFFLE	COPY_MAP_DATA	866272000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1651400
+SHUFFLE	COMPRESS_BYTE_COUNT	474055
+SHUFFLE	COPY_MAP_DATA	43394000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1647391
+SHUFFLE	COMPRESS_BYTE_COUNT	425728
+SHUFFLE	COPY_MAP_DATA	49551000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1707301
+SHUFFLE	COMPRESS_BYTE_COUNT	493284
+SHUFFLE	COPY_MAP_DATA	37645000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1762235
+SHUFFLE	COMPRESS_BYTE_COUNT	537177
+SHUFFLE	COPY_MAP_DATA	1288772000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1788055
+SHUFFLE	COMPRESS_BYTE_COUNT	519163
+SHUFFLE	COPY_MAP_DATA	75867000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1856883
+SHUFFLE	COMPRESS_BYTE_COUNT	525193
+SHUFFLE	COPY_MAP_DATA	71599000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1878246
+SHUFFLE	COMPRESS_BYTE_COUNT	544834
+SHUFFLE	COPY_MAP_DATA	29974000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1866938
+SHUFFLE	COMPRESS_BYTE_COUNT	519015
+SHUFFLE	COPY_MAP_DATA	27734000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1828895
+SHUFFLE	COMPRESS_BYTE_COUNT	541586
+SHUFFLE	COPY_MAP_DATA	101978000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1727024
+SHUFFLE	COMPRESS_BYTE_COUNT	521540
+SHUFFLE	COPY_MAP_DATA	220969000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1708148
+SHUFFLE	COMPRESS_BYTE_COUNT	517345
+SHUFFLE	COPY_MAP_DATA	72658000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1609838
+SHUFFLE	COMPRESS_BYTE_COUNT	469920
+SHUFFLE	COPY_MAP_DATA	46058000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1616280
+SHUFFLE	COMPRESS_BYTE_COUNT	472827
+SHUFFLE	COPY_MAP_DATA	303625000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1591272
+SHUFFLE	COMPRESS_BYTE_COUNT	471780
+SHUFFLE	COPY_MAP_DATA	188418000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1604853
+SHUFFLE	COMPRESS_BYTE_COUNT	480503
+SHUFFLE	COPY_MAP_DATA	78946000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1904750
+SHUFFLE	COMPRESS_BYTE_COUNT	541605
+SHUFFLE	COPY_MAP_DATA	104424000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1460905
+SHUFFLE	COMPRESS_BYTE_COUNT	429346
+SHUFFLE	COPY_MAP_DATA	428270000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1537841
+SHUFFLE	COMPRESS_BYTE_COUNT	448887
+SHUFFLE	COPY_MAP_DATA	29018000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1622975
+SHUFFLE	COMPRESS_BYTE_COUNT	476679
+SHUFFLE	COPY_MAP_DATA	665481000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1616567
+SHUFFLE	COMPRESS_BYTE_COUNT	467774
+SHUFFLE	COPY_MAP_DATA	23246000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1604347
+SHUFFLE	COMPRESS_BYTE_COUNT	469567
+SHUFFLE	COPY_MAP_DATA	235021000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1619295
+SHUFFLE	COMPRESS_BYTE_COUNT	464125
+SHUFFLE	COPY_MAP_DATA	26667000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1495576
+SHUFFLE	COMPRESS_BYTE_COUNT	436141
+SHUFFLE	COPY_MAP_DATA	515096000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1586702
+SHUFFLE	COMPRESS_BYTE_COUNT	450993
+SHUFFLE	COPY_MAP_DATA	23809000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1794247
+SHUFFLE	COMPRESS_BYTE_COUNT	470697
+SHUFFLE	COPY_MAP_DATA	25153000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1524983
+SHUFFLE	COMPRESS_BYTE_COUNT	457787
+SHUFFLE	COPY_MAP_DATA	23016000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1645870
+SHUFFLE	COMPRESS_BYTE_COUNT	455543
+SHUFFLE	COPY_MAP_DATA	24287000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1752054
+SHUFFLE	COMPRESS_BYTE_COUNT	488059
+SHUFFLE	COPY_MAP_DATA	24612000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1692380
+SHUFFLE	COMPRESS_BYTE_COUNT	474564
+SHUFFLE	COPY_MAP_DATA	34093000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1869893
+SHUFFLE	COMPRESS_BYTE_COUNT	571779
+SHUFFLE	COPY_MAP_DATA	41172000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1779813
+SHUFFLE	COMPRESS_BYTE_COUNT	514014
+SHUFFLE	COPY_MAP_DATA	28289000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1529656
+SHUFFLE	COMPRESS_BYTE_COUNT	458634
+SHUFFLE	COPY_MAP_DATA	35027000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1856558
+SHUFFLE	COMPRESS_BYTE_COUNT	572642
+SHUFFLE	COPY_MAP_DATA	1353664000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1624021
+SHUFFLE	COMPRESS_BYTE_COUNT	473475
+SHUFFLE	COPY_MAP_DATA	25863000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1656950
+SHUFFLE	COMPRESS_BYTE_COUNT	475851
+SHUFFLE	COPY_MAP_DATA	232332000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1918847
+SHUFFLE	COMPRESS_BYTE_COUNT	536211
+SHUFFLE	COPY_MAP_DATA	38944000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1671194
+SHUFFLE	COMPRESS_BYTE_COUNT	475506
+SHUFFLE	COPY_MAP_DATA	1552822000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1777246
+SHUFFLE	COMPRESS_BYTE_COUNT	540848
+SHUFFLE	COPY_MAP_DATA	93097000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	819386
+SHUFFLE	COMPRESS_BYTE_COUNT	232621
+SHUFFLE	COPY_MAP_DATA	15316331000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1441283
+SHUFFLE	COMPRESS_BYTE_COUNT	428831
+SHUFFLE	COPY_MAP_DATA	420137000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1502203
+SHUFFLE	COMPRESS_BYTE_COUNT	434114
+SHUFFLE	COPY_MAP_DATA	23894000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1737817
+SHUFFLE	COMPRESS_BYTE_COUNT	463753
+SHUFFLE	COPY_MAP_DATA	24125000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	956092
+SHUFFLE	COMPRESS_BYTE_COUNT	258012
+SHUFFLE	COPY_MAP_DATA	15947000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	926187
+SHUFFLE	COMPRESS_BYTE_COUNT	266540
+SHUFFLE	COPY_MAP_DATA	2663384000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	828587
+SHUFFLE	COMPRESS_BYTE_COUNT	242542
+SHUFFLE	COPY_MAP_DATA	15355000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	984452
+SHUFFLE	COMPRESS_BYTE_COUNT	290244
+SHUFFLE	COPY_MAP_DATA	17855000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1612444
+SHUFFLE	COMPRESS_BYTE_COUNT	461604
+SHUFFLE	COPY_MAP_DATA	1391060000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	780714
+SHUFFLE	COMPRESS_BYTE_COUNT	234540
+SHUFFLE	COPY_MAP_DATA	14434000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	832953
+SHUFFLE	COMPRESS_BYTE_COUNT	237853
+SHUFFLE	COPY_MAP_DATA	23951000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1461298
+SHUFFLE	COMPRESS_BYTE_COUNT	444640
+SHUFFLE	COPY_MAP_DATA	23149000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1427451
+SHUFFLE	COMPRESS_BYTE_COUNT	424138
+SHUFFLE	COPY_MAP_DATA	22175000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1685380
+SHUFFLE	COMPRESS_BYTE_COUNT	474808
+SHUFFLE	COPY_MAP_DATA	1304354000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1599644
+SHUFFLE	COMPRESS_BYTE_COUNT	459994
+SHUFFLE	COPY_MAP_DATA	26849000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1623519
+SHUFFLE	COMPRESS_BYTE_COUNT	479911
+SHUFFLE	COPY_MAP_DATA	5656649000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1414967
+SHUFFLE	COMPRESS_BYTE_COUNT	414505
+SHUFFLE	COPY_MAP_DATA	1639476000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1049665
+SHUFFLE	COMPRESS_BYTE_COUNT	294750
+SHUFFLE	COPY_MAP_DATA	539719000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1470274
+SHUFFLE	COMPRESS_BYTE_COUNT	436708
+SHUFFLE	COPY_MAP_DATA	271424000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1588276
+SHUFFLE	COMPRESS_BYTE_COUNT	443254
+SHUFFLE	COPY_MAP_DATA	24151000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	948575
+SHUFFLE	COMPRESS_BYTE_COUNT	282825
+SHUFFLE	COPY_MAP_DATA	41303000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1734165
+SHUFFLE	COMPRESS_BYTE_COUNT	531170
+SHUFFLE	COPY_MAP_DATA	27411000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1736290
+SHUFFLE	COMPRESS_BYTE_COUNT	506949
+SHUFFLE	COPY_MAP_DATA	25812000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	960424
+SHUFFLE	COMPRESS_BYTE_COUNT	278587
+SHUFFLE	COPY_MAP_DATA	219502000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1050910
+SHUFFLE	COMPRESS_BYTE_COUNT	290981
+SHUFFLE	COPY_MAP_DATA	17765000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1180396
+SHUFFLE	COMPRESS_BYTE_COUNT	297264
+SHUFFLE	COPY_MAP_DATA	670761000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1649429
+SHUFFLE	COMPRESS_BYTE_COUNT	465595
+SHUFFLE	COPY_MAP_DATA	177545000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1671936
+SHUFFLE	COMPRESS_BYTE_COUNT	474188
+SHUFFLE	COPY_MAP_DATA	24056000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1760123
+SHUFFLE	COMPRESS_BYTE_COUNT	522736
+SHUFFLE	COPY_MAP_DATA	3238454000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1576918
+SHUFFLE	COMPRESS_BYTE_COUNT	487992
+SHUFFLE	COPY_MAP_DATA	246435000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	944447
+SHUFFLE	COMPRESS_BYTE_COUNT	281852
+SHUFFLE	COPY_MAP_DATA	16333000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	954484
+SHUFFLE	COMPRESS_BYTE_COUNT	286381
+SHUFFLE	COPY_MAP_DATA	16226000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	975616
+SHUFFLE	COMPRESS_BYTE_COUNT	288428
+SHUFFLE	COPY_MAP_DATA	70233000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1655929
+SHUFFLE	COMPRESS_BYTE_COUNT	476137
+SHUFFLE	COPY_MAP_DATA	25572000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1602372
+SHUFFLE	COMPRESS_BYTE_COUNT	458815
+SHUFFLE	COPY_MAP_DATA	45265000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1023776
+SHUFFLE	COMPRESS_BYTE_COUNT	298529
+SHUFFLE	COPY_MAP_DATA	1170340000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	927171
+SHUFFLE	COMPRESS_BYTE_COUNT	288095
+SHUFFLE	COPY_MAP_DATA	394527000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	958622
+SHUFFLE	COMPRESS_BYTE_COUNT	288691
+SHUFFLE	COPY_MAP_DATA	125918000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	976957
+SHUFFLE	COMPRESS_BYTE_COUNT	284971
+SHUFFLE	COPY_MAP_DATA	40612000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	932335
+SHUFFLE	COMPRESS_BYTE_COUNT	282776
+SHUFFLE	COPY_MAP_DATA	548018000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	878915
+SHUFFLE	COMPRESS_BYTE_COUNT	260818
+SHUFFLE	COPY_MAP_DATA	159295000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	952745
+SHUFFLE	COMPRESS_BYTE_COUNT	290511
+SHUFFLE	COPY_MAP_DATA	17449000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	987998
+SHUFFLE	COMPRESS_BYTE_COUNT	289444
+SHUFFLE	COPY_MAP_DATA	16998000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	941333
+SHUFFLE	COMPRESS_BYTE_COUNT	287046
+SHUFFLE	COPY_MAP_DATA	16651000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	985261
+SHUFFLE	COMPRESS_BYTE_COUNT	299855
+SHUFFLE	COPY_MAP_DATA	20460000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	957968
+SHUFFLE	COMPRESS_BYTE_COUNT	288729
+SHUFFLE	COPY_MAP_DATA	1313625000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	937804
+SHUFFLE	COMPRESS_BYTE_COUNT	284355
+SHUFFLE	COPY_MAP_DATA	16033000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	935021
+SHUFFLE	COMPRESS_BYTE_COUNT	287364
+SHUFFLE	COPY_MAP_DATA	4023049000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1068083
+SHUFFLE	COMPRESS_BYTE_COUNT	292123
+SHUFFLE	COPY_MAP_DATA	16815000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	962286
+SHUFFLE	COMPRESS_BYTE_COUNT	287093
+SHUFFLE	COPY_MAP_DATA	16720000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	958960
+SHUFFLE	COMPRESS_BYTE_COUNT	287710
+SHUFFLE	COPY_MAP_DATA	15437000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1004327
+SHUFFLE	COMPRESS_BYTE_COUNT	304221
+SHUFFLE	COPY_MAP_DATA	33324000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	936206
+SHUFFLE	COMPRESS_BYTE_COUNT	280073
+SHUFFLE	COPY_MAP_DATA	51743000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	953238
+SHUFFLE	COMPRESS_BYTE_COUNT	295862
+SHUFFLE	COPY_MAP_DATA	17678000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	931224
+SHUFFLE	COMPRESS_BYTE_COUNT	290656
+SHUFFLE	COPY_MAP_DATA	35462000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	916605
+SHUFFLE	COMPRESS_BYTE_COUNT	284475
+SHUFFLE	COPY_MAP_DATA	17048000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1093603
+SHUFFLE	COMPRESS_BYTE_COUNT	306726
+SHUFFLE	COPY_MAP_DATA	32495000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	963767
+SHUFFLE	COMPRESS_BYTE_COUNT	294461
+SHUFFLE	COPY_MAP_DATA	5979957000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	941016
+SHUFFLE	COMPRESS_BYTE_COUNT	293453
+SHUFFLE	COPY_MAP_DATA	177962000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	899197
+SHUFFLE	COMPRESS_BYTE_COUNT	272558
+SHUFFLE	COPY_MAP_DATA	16652000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	956671
+SHUFFLE	COMPRESS_BYTE_COUNT	295355
+SHUFFLE	COPY_MAP_DATA	112756000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	965519
+SHUFFLE	COMPRESS_BYTE_COUNT	301988
+SHUFFLE	COPY_MAP_DATA	204141000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	931211
+SHUFFLE	COMPRESS_BYTE_COUNT	284254
+SHUFFLE	COPY_MAP_DATA	16817000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	958609
+SHUFFLE	COMPRESS_BYTE_COUNT	290487
+SHUFFLE	COPY_MAP_DATA	110929000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	954550
+SHUFFLE	COMPRESS_BYTE_COUNT	297102
+SHUFFLE	COPY_MAP_DATA	130963000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1035006
+SHUFFLE	COMPRESS_BYTE_COUNT	287000
+SHUFFLE	COPY_MAP_DATA	15498000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	961751
+SHUFFLE	COMPRESS_BYTE_COUNT	292080
+SHUFFLE	COPY_MAP_DATA	16405000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	932692
+SHUFFLE	COMPRESS_BYTE_COUNT	285250
+SHUFFLE	COPY_MAP_DATA	17949000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	933774
+SHUFFLE	COMPRESS_BYTE_COUNT	283204
+SHUFFLE	COPY_MAP_DATA	16117000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	987578
+SHUFFLE	COMPRESS_BYTE_COUNT	296411
+SHUFFLE	COPY_MAP_DATA	15813000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	924424
+SHUFFLE	COMPRESS_BYTE_COUNT	289897
+SHUFFLE	COPY_MAP_DATA	15737000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1018015
+SHUFFLE	COMPRESS_BYTE_COUNT	284916
+SHUFFLE	COPY_MAP_DATA	15882000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	904180
+SHUFFLE	COMPRESS_BYTE_COUNT	285712
+SHUFFLE	COPY_MAP_DATA	67012000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	992729
+SHUFFLE	COMPRESS_BYTE_COUNT	269075
+SHUFFLE	COPY_MAP_DATA	64653000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	941336
+SHUFFLE	COMPRESS_BYTE_COUNT	288216
+SHUFFLE	COPY_MAP_DATA	90693000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	973561
+SHUFFLE	COMPRESS_BYTE_COUNT	287244
+SHUFFLE	COPY_MAP_DATA	35947000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	922669
+SHUFFLE	COMPRESS_BYTE_COUNT	290228
+SHUFFLE	COPY_MAP_DATA	16483000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	887306
+SHUFFLE	COMPRESS_BYTE_COUNT	274341
+SHUFFLE	COPY_MAP_DATA	71242000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	984303
+SHUFFLE	COMPRESS_BYTE_COUNT	299200
+SHUFFLE	COPY_MAP_DATA	106877000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	947944
+SHUFFLE	COMPRESS_BYTE_COUNT	292804
+SHUFFLE	COPY_MAP_DATA	17443000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	900738
+SHUFFLE	COMPRESS_BYTE_COUNT	275577
+SHUFFLE	COPY_MAP_DATA	29578000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	966701
+SHUFFLE	COMPRESS_BYTE_COUNT	289824
+SHUFFLE	COPY_MAP_DATA	65188000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	950486
+SHUFFLE	COMPRESS_BYTE_COUNT	287888
+SHUFFLE	COPY_MAP_DATA	544079000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	893289
+SHUFFLE	COMPRESS_BYTE_COUNT	281367
+SHUFFLE	COPY_MAP_DATA	16532000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	954545
+SHUFFLE	COMPRESS_BYTE_COUNT	295186
+SHUFFLE	COPY_MAP_DATA	16260000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	863630
+SHUFFLE	COMPRESS_BYTE_COUNT	272309
+SHUFFLE	COPY_MAP_DATA	186475000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	943506
+SHUFFLE	COMPRESS_BYTE_COUNT	290323
+SHUFFLE	COPY_MAP_DATA	111904000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	909867
+SHUFFLE	COMPRESS_BYTE_COUNT	281791
+SHUFFLE	COPY_MAP_DATA	14598000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	901874
+SHUFFLE	COMPRESS_BYTE_COUNT	278797
+SHUFFLE	COPY_MAP_DATA	17135000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	957696
+SHUFFLE	COMPRESS_BYTE_COUNT	288625
+SHUFFLE	COPY_MAP_DATA	741351000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	914973
+SHUFFLE	COMPRESS_BYTE_COUNT	286397
+SHUFFLE	COPY_MAP_DATA	17238000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	965686
+SHUFFLE	COMPRESS_BYTE_COUNT	291203
+SHUFFLE	COPY_MAP_DATA	156943000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	929700
+SHUFFLE	COMPRESS_BYTE_COUNT	295379
+SHUFFLE	COPY_MAP_DATA	16925000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	965308
+SHUFFLE	COMPRESS_BYTE_COUNT	299846
+SHUFFLE	COPY_MAP_DATA	31417000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	937846
+SHUFFLE	COMPRESS_BYTE_COUNT	288908
+SHUFFLE	COPY_MAP_DATA	25366000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	899610
+SHUFFLE	COMPRESS_BYTE_COUNT	286046
+SHUFFLE	COPY_MAP_DATA	15626000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	883631
+SHUFFLE	COMPRESS_BYTE_COUNT	271398
+SHUFFLE	COPY_MAP_DATA	15695000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	871044
+SHUFFLE	COMPRESS_BYTE_COUNT	270970
+SHUFFLE	COPY_MAP_DATA	14968000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	924922
+SHUFFLE	COMPRESS_BYTE_COUNT	285473
+SHUFFLE	COPY_MAP_DATA	56036000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	877104
+SHUFFLE	COMPRESS_BYTE_COUNT	275048
+SHUFFLE	COPY_MAP_DATA	1148943000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	856757
+SHUFFLE	COMPRESS_BYTE_COUNT	272298
+SHUFFLE	COPY_MAP_DATA	16002000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	846678
+SHUFFLE	COMPRESS_BYTE_COUNT	267766
+SHUFFLE	COPY_MAP_DATA	16395000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	910323
+SHUFFLE	COMPRESS_BYTE_COUNT	287443
+SHUFFLE	COPY_MAP_DATA	27065000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	888721
+SHUFFLE	COMPRESS_BYTE_COUNT	283028
+SHUFFLE	COPY_MAP_DATA	66827000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	881782
+SHUFFLE	COMPRESS_BYTE_COUNT	274490
+SHUFFLE	COPY_MAP_DATA	16591000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	895193
+SHUFFLE	COMPRESS_BYTE_COUNT	283931
+SHUFFLE	COPY_MAP_DATA	38260000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	877144
+SHUFFLE	COMPRESS_BYTE_COUNT	274211
+SHUFFLE	COPY_MAP_DATA	19242000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	886500
+SHUFFLE	COMPRESS_BYTE_COUNT	282154
+SHUFFLE	COPY_MAP_DATA	213089000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	931440
+SHUFFLE	COMPRESS_BYTE_COUNT	291036
+SHUFFLE	COPY_MAP_DATA	16658000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	896417
+SHUFFLE	COMPRESS_BYTE_COUNT	273889
+SHUFFLE	COPY_MAP_DATA	304330000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	884536
+SHUFFLE	COMPRESS_BYTE_COUNT	279861
+SHUFFLE	COPY_MAP_DATA	39581000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	905103
+SHUFFLE	COMPRESS_BYTE_COUNT	277690
+SHUFFLE	COPY_MAP_DATA	85432000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	916290
+SHUFFLE	COMPRESS_BYTE_COUNT	274034
+SHUFFLE	COPY_MAP_DATA	15593000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	872799
+SHUFFLE	COMPRESS_BYTE_COUNT	269754
+SHUFFLE	COPY_MAP_DATA	236319000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	829814
+SHUFFLE	COMPRESS_BYTE_COUNT	250260
+SHUFFLE	COPY_MAP_DATA	470562000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	845244
+SHUFFLE	COMPRESS_BYTE_COUNT	268350
+SHUFFLE	COPY_MAP_DATA	122104000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	852412
+SHUFFLE	COMPRESS_BYTE_COUNT	272018
+SHUFFLE	COPY_MAP_DATA	24149000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	816427
+SHUFFLE	COMPRESS_BYTE_COUNT	246359
+SHUFFLE	COPY_MAP_DATA	13456000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	931262
+SHUFFLE	COMPRESS_BYTE_COUNT	284157
+SHUFFLE	COPY_MAP_DATA	15621000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	831882
+SHUFFLE	COMPRESS_BYTE_COUNT	263885
+SHUFFLE	COPY_MAP_DATA	15358000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	875737
+SHUFFLE	COMPRESS_BYTE_COUNT	275594
+SHUFFLE	COPY_MAP_DATA	16577000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	843554
+SHUFFLE	COMPRESS_BYTE_COUNT	250678
+SHUFFLE	COPY_MAP_DATA	814643000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	927605
+SHUFFLE	COMPRESS_BYTE_COUNT	289526
+SHUFFLE	COPY_MAP_DATA	92598000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	865710
+SHUFFLE	COMPRESS_BYTE_COUNT	267525
+SHUFFLE	COPY_MAP_DATA	139297000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	838940
+SHUFFLE	COMPRESS_BYTE_COUNT	267956
+SHUFFLE	COPY_MAP_DATA	327777000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	856795
+SHUFFLE	COMPRESS_BYTE_COUNT	254900
+SHUFFLE	COPY_MAP_DATA	14758000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	900900
+SHUFFLE	COMPRESS_BYTE_COUNT	284911
+SHUFFLE	COPY_MAP_DATA	61322000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	753696
+SHUFFLE	COMPRESS_BYTE_COUNT	235036
+SHUFFLE	COPY_MAP_DATA	16902000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	837106
+SHUFFLE	COMPRESS_BYTE_COUNT	267177
+SHUFFLE	COPY_MAP_DATA	107885000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	977348
+SHUFFLE	COMPRESS_BYTE_COUNT	281093
+SHUFFLE	COPY_MAP_DATA	868880000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	874624
+SHUFFLE	COMPRESS_BYTE_COUNT	249894
+SHUFFLE	COPY_MAP_DATA	401557000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	821185
+SHUFFLE	COMPRESS_BYTE_COUNT	249231
+SHUFFLE	COPY_MAP_DATA	1998914000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	867155
+SHUFFLE	COMPRESS_BYTE_COUNT	265642
+SHUFFLE	COPY_MAP_DATA	353943000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	801977
+SHUFFLE	COMPRESS_BYTE_COUNT	258382
+SHUFFLE	COPY_MAP_DATA	95653000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	862586
+SHUFFLE	COMPRESS_BYTE_COUNT	254043
+SHUFFLE	COPY_MAP_DATA	27153000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	817833
+SHUFFLE	COMPRESS_BYTE_COUNT	247069
+SHUFFLE	COPY_MAP_DATA	887635000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1002728
+SHUFFLE	COMPRESS_BYTE_COUNT	289171
+SHUFFLE	COPY_MAP_DATA	17600000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	828147
+SHUFFLE	COMPRESS_BYTE_COUNT	257243
+SHUFFLE	COPY_MAP_DATA	13681000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	877489
+SHUFFLE	COMPRESS_BYTE_COUNT	261728
+SHUFFLE	COPY_MAP_DATA	189913000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	854157
+SHUFFLE	COMPRESS_BYTE_COUNT	256193
+SHUFFLE	COPY_MAP_DATA	15591000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	829084
+SHUFFLE	COMPRESS_BYTE_COUNT	243481
+SHUFFLE	COPY_MAP_DATA	14438000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	813545
+SHUFFLE	COMPRESS_BYTE_COUNT	243692
+SHUFFLE	COPY_MAP_DATA	14573000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	824893
+SHUFFLE	COMPRESS_BYTE_COUNT	252214
+SHUFFLE	COPY_MAP_DATA	13912000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	753160
+SHUFFLE	COMPRESS_BYTE_COUNT	231399
+SHUFFLE	COPY_MAP_DATA	3119342000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	702491
+SHUFFLE	COMPRESS_BYTE_COUNT	194171
+SHUFFLE	COPY_MAP_DATA	12457000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	988462
+SHUFFLE	COMPRESS_BYTE_COUNT	287148
+SHUFFLE	COPY_MAP_DATA	16765000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	744372
+SHUFFLE	COMPRESS_BYTE_COUNT	226946
+SHUFFLE	COPY_MAP_DATA	455004000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	793893
+SHUFFLE	COMPRESS_BYTE_COUNT	249562
+SHUFFLE	COPY_MAP_DATA	272119000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	787569
+SHUFFLE	COMPRESS_BYTE_COUNT	246739
+SHUFFLE	COPY_MAP_DATA	352662000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	865986
+SHUFFLE	COMPRESS_BYTE_COUNT	247905
+SHUFFLE	COPY_MAP_DATA	13942000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	745788
+SHUFFLE	COMPRESS_BYTE_COUNT	230981
+SHUFFLE	COPY_MAP_DATA	274839000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	820026
+SHUFFLE	COMPRESS_BYTE_COUNT	249547
+SHUFFLE	COPY_MAP_DATA	1047157000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	790734
+SHUFFLE	COMPRESS_BYTE_COUNT	237725
+SHUFFLE	COPY_MAP_DATA	703021000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	774480
+SHUFFLE	COMPRESS_BYTE_COUNT	235597
+SHUFFLE	COPY_MAP_DATA	748426000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	877457
+SHUFFLE	COMPRESS_BYTE_COUNT	253863
+SHUFFLE	COPY_MAP_DATA	16044000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	829002
+SHUFFLE	COMPRESS_BYTE_COUNT	244128
+SHUFFLE	COPY_MAP_DATA	166742000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	740679
+SHUFFLE	COMPRESS_BYTE_COUNT	226094
+SHUFFLE	COPY_MAP_DATA	220437000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	807848
+SHUFFLE	COMPRESS_BYTE_COUNT	239824
+SHUFFLE	COPY_MAP_DATA	13792000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	821951
+SHUFFLE	COMPRESS_BYTE_COUNT	250673
+SHUFFLE	COPY_MAP_DATA	14400000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	781543
+SHUFFLE	COMPRESS_BYTE_COUNT	237480
+SHUFFLE	COPY_MAP_DATA	445382000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	771397
+SHUFFLE	COMPRESS_BYTE_COUNT	239425
+SHUFFLE	COPY_MAP_DATA	589021000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	921957
+SHUFFLE	COMPRESS_BYTE_COUNT	274101
+SHUFFLE	COPY_MAP_DATA	313437000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	821405
+SHUFFLE	COMPRESS_BYTE_COUNT	258091
+SHUFFLE	COPY_MAP_DATA	13701000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	857858
+SHUFFLE	COMPRESS_BYTE_COUNT	256528
+SHUFFLE	COPY_MAP_DATA	1191497000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	919625
+SHUFFLE	COMPRESS_BYTE_COUNT	236807
+SHUFFLE	COPY_MAP_DATA	287579000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	852447
+SHUFFLE	COMPRESS_BYTE_COUNT	251919
+SHUFFLE	COPY_MAP_DATA	14975000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	842332
+SHUFFLE	COMPRESS_BYTE_COUNT	239690
+SHUFFLE	COPY_MAP_DATA	19984000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1124107
+SHUFFLE	COMPRESS_BYTE_COUNT	357739
+SHUFFLE	COPY_MAP_DATA	88573000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	750667
+SHUFFLE	COMPRESS_BYTE_COUNT	225264
+SHUFFLE	COPY_MAP_DATA	13551000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	754362
+SHUFFLE	COMPRESS_BYTE_COUNT	232406
+SHUFFLE	COPY_MAP_DATA	138148000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	770089
+SHUFFLE	COMPRESS_BYTE_COUNT	237363
+SHUFFLE	COPY_MAP_DATA	170432000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	744358
+SHUFFLE	COMPRESS_BYTE_COUNT	226885
+SHUFFLE	COPY_MAP_DATA	34566000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	753588
+SHUFFLE	COMPRESS_BYTE_COUNT	233717
+SHUFFLE	COPY_MAP_DATA	549296000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	858007
+SHUFFLE	COMPRESS_BYTE_COUNT	257465
+SHUFFLE	COPY_MAP_DATA	15168000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	915571
+SHUFFLE	COMPRESS_BYTE_COUNT	264641
+SHUFFLE	COPY_MAP_DATA	123031000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	869397
+SHUFFLE	COMPRESS_BYTE_COUNT	266183
+SHUFFLE	COPY_MAP_DATA	15951000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	899609
+SHUFFLE	COMPRESS_BYTE_COUNT	253278
+SHUFFLE	COPY_MAP_DATA	18096000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	756300
+SHUFFLE	COMPRESS_BYTE_COUNT	228391
+SHUFFLE	COPY_MAP_DATA	41650000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	777362
+SHUFFLE	COMPRESS_BYTE_COUNT	224704
+SHUFFLE	COPY_MAP_DATA	145938000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	794618
+SHUFFLE	COMPRESS_BYTE_COUNT	233436
+SHUFFLE	COPY_MAP_DATA	2719582000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	783450
+SHUFFLE	COMPRESS_BYTE_COUNT	239807
+SHUFFLE	COPY_MAP_DATA	23900000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	926733
+SHUFFLE	COMPRESS_BYTE_COUNT	274673
+SHUFFLE	COPY_MAP_DATA	33318000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	756528
+SHUFFLE	COMPRESS_BYTE_COUNT	233221
+SHUFFLE	COPY_MAP_DATA	269139000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	860567
+SHUFFLE	COMPRESS_BYTE_COUNT	240188
+SHUFFLE	COPY_MAP_DATA	247991000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	793739
+SHUFFLE	COMPRESS_BYTE_COUNT	237845
+SHUFFLE	COPY_MAP_DATA	14081000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	746342
+SHUFFLE	COMPRESS_BYTE_COUNT	229321
+SHUFFLE	COPY_MAP_DATA	23957000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	721098
+SHUFFLE	COMPRESS_BYTE_COUNT	215441
+SHUFFLE	COPY_MAP_DATA	12889000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	747293
+SHUFFLE	COMPRESS_BYTE_COUNT	228128
+SHUFFLE	COPY_MAP_DATA	12757000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	951369
+SHUFFLE	COMPRESS_BYTE_COUNT	271792
+SHUFFLE	COPY_MAP_DATA	16987000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	769877
+SHUFFLE	COMPRESS_BYTE_COUNT	232774
+SHUFFLE	COPY_MAP_DATA	181366000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	830808
+SHUFFLE	COMPRESS_BYTE_COUNT	243475
+SHUFFLE	COPY_MAP_DATA	51290000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1068991
+SHUFFLE	COMPRESS_BYTE_COUNT	340050
+SHUFFLE	COPY_MAP_DATA	192986000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	785305
+SHUFFLE	COMPRESS_BYTE_COUNT	230778
+SHUFFLE	COPY_MAP_DATA	13323000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	751538
+SHUFFLE	COMPRESS_BYTE_COUNT	224056
+SHUFFLE	COPY_MAP_DATA	13579000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	682873
+SHUFFLE	COMPRESS_BYTE_COUNT	216833
+SHUFFLE	COPY_MAP_DATA	218068000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	741649
+SHUFFLE	COMPRESS_BYTE_COUNT	229209
+SHUFFLE	COPY_MAP_DATA	324095000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	720228
+SHUFFLE	COMPRESS_BYTE_COUNT	217785
+SHUFFLE	COPY_MAP_DATA	417428000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	846785
+SHUFFLE	COMPRESS_BYTE_COUNT	254057
+SHUFFLE	COPY_MAP_DATA	15032000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	826144
+SHUFFLE	COMPRESS_BYTE_COUNT	249648
+SHUFFLE	COPY_MAP_DATA	13777000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	854146
+SHUFFLE	COMPRESS_BYTE_COUNT	256136
+SHUFFLE	COPY_MAP_DATA	16079000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	839493
+SHUFFLE	COMPRESS_BYTE_COUNT	255093
+SHUFFLE	COPY_MAP_DATA	15441000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	712730
+SHUFFLE	COMPRESS_BYTE_COUNT	222135
+SHUFFLE	COPY_MAP_DATA	76211000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	770154
+SHUFFLE	COMPRESS_BYTE_COUNT	232129
+SHUFFLE	COPY_MAP_DATA	491191000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	746749
+SHUFFLE	COMPRESS_BYTE_COUNT	228058
+SHUFFLE	COPY_MAP_DATA	375231000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	829492
+SHUFFLE	COMPRESS_BYTE_COUNT	242789
+SHUFFLE	COPY_MAP_DATA	556650000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	803495
+SHUFFLE	COMPRESS_BYTE_COUNT	246688
+SHUFFLE	COPY_MAP_DATA	166116000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	862620
+SHUFFLE	COMPRESS_BYTE_COUNT	261223
+SHUFFLE	COPY_MAP_DATA	91742000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	874939
+SHUFFLE	COMPRESS_BYTE_COUNT	254112
+SHUFFLE	COPY_MAP_DATA	35204000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	783570
+SHUFFLE	COMPRESS_BYTE_COUNT	236810
+SHUFFLE	COPY_MAP_DATA	14192000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	874549
+SHUFFLE	COMPRESS_BYTE_COUNT	241737
+SHUFFLE	COPY_MAP_DATA	153091000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	809559
+SHUFFLE	COMPRESS_BYTE_COUNT	249546
+SHUFFLE	COPY_MAP_DATA	15586000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	861272
+SHUFFLE	COMPRESS_BYTE_COUNT	249495
+SHUFFLE	COPY_MAP_DATA	15158000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1171556
+SHUFFLE	COMPRESS_BYTE_COUNT	326835
+SHUFFLE	COPY_MAP_DATA	17972000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	817904
+SHUFFLE	COMPRESS_BYTE_COUNT	235679
+SHUFFLE	COPY_MAP_DATA	14336000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	795581
+SHUFFLE	COMPRESS_BYTE_COUNT	237960
+SHUFFLE	COPY_MAP_DATA	191427000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	742231
+SHUFFLE	COMPRESS_BYTE_COUNT	224345
+SHUFFLE	COPY_MAP_DATA	14139000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	688125
+SHUFFLE	COMPRESS_BYTE_COUNT	212949
+SHUFFLE	COPY_MAP_DATA	376481000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	654664
+SHUFFLE	COMPRESS_BYTE_COUNT	166171
+SHUFFLE	COPY_MAP_DATA	365824000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	712730
+SHUFFLE	COMPRESS_BYTE_COUNT	222135
+SHUFFLE	COPY_MAP_DATA	220627000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	867478
+SHUFFLE	COMPRESS_BYTE_COUNT	256304
+SHUFFLE	COPY_MAP_DATA	402612000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	668220
+SHUFFLE	COMPRESS_BYTE_COUNT	200803
+SHUFFLE	COPY_MAP_DATA	12758000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	719651
+SHUFFLE	COMPRESS_BYTE_COUNT	229750
+SHUFFLE	COPY_MAP_DATA	399154000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	777079
+SHUFFLE	COMPRESS_BYTE_COUNT	223313
+SHUFFLE	COPY_MAP_DATA	77100000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	793413
+SHUFFLE	COMPRESS_BYTE_COUNT	240875
+SHUFFLE	COPY_MAP_DATA	266870000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	888368
+SHUFFLE	COMPRESS_BYTE_COUNT	251967
+SHUFFLE	COPY_MAP_DATA	14815000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	477907
+SHUFFLE	COMPRESS_BYTE_COUNT	111660
+SHUFFLE	COPY_MAP_DATA	27474000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	871833
+SHUFFLE	COMPRESS_BYTE_COUNT	229548
+SHUFFLE	COPY_MAP_DATA	227090000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	872352
+SHUFFLE	COMPRESS_BYTE_COUNT	256345
+SHUFFLE	COPY_MAP_DATA	206285000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	920632
+SHUFFLE	COMPRESS_BYTE_COUNT	282902
+SHUFFLE	COPY_MAP_DATA	211056000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	728045
+SHUFFLE	COMPRESS_BYTE_COUNT	225418
+SHUFFLE	COPY_MAP_DATA	408042000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	751174
+SHUFFLE	COMPRESS_BYTE_COUNT	228654
+SHUFFLE	COPY_MAP_DATA	12483000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	791786
+SHUFFLE	COMPRESS_BYTE_COUNT	225674
+SHUFFLE	COPY_MAP_DATA	12214000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	631872
+SHUFFLE	COMPRESS_BYTE_COUNT	200200
+SHUFFLE	COPY_MAP_DATA	21712000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	810588
+SHUFFLE	COMPRESS_BYTE_COUNT	246739
+SHUFFLE	COPY_MAP_DATA	14305000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	793311
+SHUFFLE	COMPRESS_BYTE_COUNT	231049
+SHUFFLE	COPY_MAP_DATA	20601000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	864770
+SHUFFLE	COMPRESS_BYTE_COUNT	280289
+SHUFFLE	COPY_MAP_DATA	53347000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	963703
+SHUFFLE	COMPRESS_BYTE_COUNT	313001
+SHUFFLE	COPY_MAP_DATA	46459000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	810916
+SHUFFLE	COMPRESS_BYTE_COUNT	233164
+SHUFFLE	COPY_MAP_DATA	13353000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	748773
+SHUFFLE	COMPRESS_BYTE_COUNT	242411
+SHUFFLE	COPY_MAP_DATA	13946000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	260596691487
+MERGE	READ_WRITE	259596239487
+MERGE	READ_WRITE_COUNT	2
+MERGE	COMBINE	0
+MERGE	WRITE	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	33496547000
+SORT	READ_WRITE	33327997000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	132817744
+REDUCE	SETUP	296000
+REDUCE	SETUP_MEM	132817744
+REDUCE	CLEANUP	38000
+REDUCE	CLEANUP_MEM	117471944
+REDUCE	TOTAL_RUN	89890184000
+REDUCE	READ	7970603000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	75755069000
+REDUCE	WRITE	26162112000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	68875317
+REDUCE	VALUE_BYTE_COUNT	63095531
+REDUCE	REDUCE_MEM	117473992
+REDUCE	WRITE	1267883000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	746498132487
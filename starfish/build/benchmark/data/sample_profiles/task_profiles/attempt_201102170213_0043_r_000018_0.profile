@@ -0,0 +1,1333 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1864442
+SHUFFLE	COMPRESS_BYTE_COUNT	556269
+SHUFFLE	COPY_MAP_DATA	184357000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1905577
+SHUFFLE	COMPRESS_BYTE_COUNT	532834
+SHUFFLE	COPY_MAP_DATA	37032000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1998486
+SHUFFLE	COMPRESS_BYTE_COUNT	555522
+SHUFFLE	COPY_MAP_DATA	264848000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1995903
+SHUFFLE	COMPRESS_BYTE_COUNT	565077
+SHUFFLE	COPY_MAP_DATA	94497000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1845077
+SHUFFLE	COMPRESS_BYTE_COUNT	546397
+SHUFFLE	COPY_MAP_DATA	63773000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1627012
+SHUFFLE	COMPRESS_BYTE_COUNT	457834
+SHUFFLE	COPY_MAP_DATA	47694000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1754936
+SHUFFLE	COMPRESS_BYTE_COUNT	531551
+SHUFFLE	COPY_MAP_DATA	126815000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1936848
+SHUFFLE	COMPRESS_BYTE_COUNT	562124
+SHUFFLE	COPY_MAP_DATA	41765000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1904076
+SHUFFLE	COMPRESS_BYTE_COUNT	543948
+SHUFFLE	COPY_MAP_DATA	164519000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1886926
+SHUFFLE	COMPRESS_BYTE_COUNT	564967
+SHUFFLE	COPY_MAP_DATA	43037000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1798333
+SHUFFLE	COMPRESS_BYTE_COUNT	512678
+SHUFFLE	COPY_MAP_DATA	78281000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1786279
+SHUFFLE	COMPRESS_BYTE_COUNT	462386
+SHUFFLE	COPY_MAP_DATA	75923000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1942227
+SHUFFLE	COMPRESS_BYTE_COUNT	556275
+SHUFFLE	COPY_MAP_DATA	44046000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1874324
+SHUFFLE	COMPRESS_BYTE_COUNT	545505
+SHUFFLE	COPY_MAP_DATA	33321000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2067539
+SHUFFLE	COMPRESS_BYTE_COUNT	558647
+SHUFFLE	COPY_MAP_DATA	204952000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1831821
+SHUFFLE	COMPRESS_BYTE_COUNT	542999
+SHUFFLE	COPY_MAP_DATA	28765000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2076990
+SHUFFLE	COMPRESS_BYTE_COUNT	571497
+SHUFFLE	COPY_MAP_DATA	309588000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1872524
+SHUFFLE	COMPRESS_BYTE_COUNT	555447
+SHUFFLE	COPY_MAP_DATA	30974000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1880463
+SHUFFLE	COMPRESS_BYTE_COUNT	553869
+SHUFFLE	COPY_MAP_DATA	40989000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1868026
+SHUFFLE	COMPRESS_BYTE_COUNT	554894
+SHUFFLE	COPY_MAP_DATA	149194000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1694393
+SHUFFLE	COMPRESS_BYTE_COUNT	470093
+SHUFFLE	COPY_MAP_DATA	343169000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1871190
+SHUFFLE	COMPRESS_BYTE_COUNT	562052
+SHUFFLE	COPY_MAP_DATA	32895000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1894282
+SHUFFLE	COMPRESS_BYTE_COUNT	558363
+SHUFFLE	COPY_MAP_DATA	247371000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1938031
+SHUFFLE	COMPRESS_BYTE_COUNT	551898
+SHUFFLE	COPY_MAP_DATA	113000000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1947468
+SHUFFLE	COMPRESS_BYTE_COUNT	548196
+SHUFFLE	COPY_MAP_DATA	52802000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1969629
+SHUFFLE	COMPRESS_BYTE_COUNT	536540
+SHUFFLE	COPY_MAP_DATA	76676000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2000739
+SHUFFLE	COMPRESS_BYTE_COUNT	567392
+SHUFFLE	COPY_MAP_DATA	350968000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1924737
+SHUFFLE	COMPRESS_BYTE_COUNT	558010
+SHUFFLE	COPY_MAP_DATA	33232000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1944209
+SHUFFLE	COMPRESS_BYTE_COUNT	534838
+SHUFFLE	COPY_MAP_DATA	29423000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1986306
+SHUFFLE	COMPRESS_BYTE_COUNT	545746
+SHUFFLE	COPY_MAP_DATA	103270000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1774136
+SHUFFLE	COMPRESS_BYTE_COUNT	528748
+SHUFFLE	COPY_MAP_DATA	126632000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1793220
+SHUFFLE	COMPRESS_BYTE_COUNT	540836
+SHUFFLE	COPY_MAP_DATA	29587000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1807773
+SHUFFLE	COMPRESS_BYTE_COUNT	546059
+SHUFFLE	COPY_MAP_DATA	128030000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1705626
+SHUFFLE	COMPRESS_BYTE_COUNT	514345
+SHUFFLE	COPY_MAP_DATA	25925000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1744007
+SHUFFLE	COMPRESS_BYTE_COUNT	525265
+SHUFFLE	COPY_MAP_DATA	30878000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1792609
+SHUFFLE	COMPRESS_BYTE_COUNT	536980
+SHUFFLE	COPY_MAP_DATA	27558000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1791473
+SHUFFLE	COMPRESS_BYTE_COUNT	533216
+SHUFFLE	COPY_MAP_DATA	33891000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1920614
+SHUFFLE	COMPRESS_BYTE_COUNT	561697
+SHUFFLE	COPY_MAP_DATA	83387000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1771100
+SHUFFLE	COMPRESS_BYTE_COUNT	532790
+SHUFFLE	COPY_MAP_DATA	366218000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1927166
+SHUFFLE	COMPRESS_BYTE_COUNT	557399
+SHUFFLE	COPY_MAP_DATA	82342000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1538630
+SHUFFLE	COMPRESS_BYTE_COUNT	449795
+SHUFFLE	COPY_MAP_DATA	25721000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1900205
+SHUFFLE	COMPRESS_BYTE_COUNT	558404
+SHUFFLE	COPY_MAP_DATA	2715268000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1835268
+SHUFFLE	COMPRESS_BYTE_COUNT	540645
+SHUFFLE	COPY_MAP_DATA	30653000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1793795
+SHUFFLE	COMPRESS_BYTE_COUNT	545976
+SHUFFLE	COPY_MAP_DATA	40318000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1695149
+SHUFFLE	COMPRESS_BYTE_COUNT	530091
+SHUFFLE	COPY_MAP_DATA	71962000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1807011
+SHUFFLE	COMPRESS_BYTE_COUNT	543696
+SHUFFLE	COPY_MAP_DATA	59318000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1711225
+SHUFFLE	COMPRESS_BYTE_COUNT	430506
+SHUFFLE	COPY_MAP_DATA	97811000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1616837
+SHUFFLE	COMPRESS_BYTE_COUNT	473679
+SHUFFLE	COPY_MAP_DATA	25155000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1860231
+SHUFFLE	COMPRESS_BYTE_COUNT	550440
+SHUFFLE	COPY_MAP_DATA	1214328000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1644347
+SHUFFLE	COMPRESS_BYTE_COUNT	484107
+SHUFFLE	COPY_MAP_DATA	71248000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1654731
+SHUFFLE	COMPRESS_BYTE_COUNT	474296
+SHUFFLE	COPY_MAP_DATA	41942000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1748116
+SHUFFLE	COMPRESS_BYTE_COUNT	496671
+SHUFFLE	COPY_MAP_DATA	88183000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1813214
+SHUFFLE	COMPRESS_BYTE_COUNT	523908
+SHUFFLE	COPY_MAP_DATA	518588000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1773791
+SHUFFLE	COMPRESS_BYTE_COUNT	520121
+SHUFFLE	COPY_MAP_DATA	65320000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1767211
+SHUFFLE	COMPRESS_BYTE_COUNT	536352
+SHUFFLE	COPY_MAP_DATA	57951000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1735802
+SHUFFLE	COMPRESS_BYTE_COUNT	501600
+SHUFFLE	COPY_MAP_DATA	340403000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1860096
+SHUFFLE	COMPRESS_BYTE_COUNT	539972
+SHUFFLE	COPY_MAP_DATA	39619000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1691262
+SHUFFLE	COMPRESS_BYTE_COUNT	514349
+SHUFFLE	COPY_MAP_DATA	261269000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1829755
+SHUFFLE	COMPRESS_BYTE_COUNT	535198
+SHUFFLE	COPY_MAP_DATA	30455000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1671402
+SHUFFLE	COMPRESS_BYTE_COUNT	516802
+SHUFFLE	COPY_MAP_DATA	47687000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1651878
+SHUFFLE	COMPRESS_BYTE_COUNT	478858
+SHUFFLE	COPY_MAP_DATA	25383000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1630717
+SHUFFLE	COMPRESS_BYTE_COUNT	476454
+SHUFFLE	COPY_MAP_DATA	283538000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1553321
+SHUFFLE	COMPRESS_BYTE_COUNT	441670
+SHUFFLE	COPY_MAP_DATA	24968000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1599939
+SHUFFLE	COMPRESS_BYTE_COUNT	475594
+SHUFFLE	COPY_MAP_DATA	3988376000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1656521
+SHUFFLE	COMPRESS_BYTE_COUNT	483488
+SHUFFLE	COPY_MAP_DATA	27580000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1785215
+SHUFFLE	COMPRESS_BYTE_COUNT	521914
+SHUFFLE	COPY_MAP_DATA	30576000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1589514
+SHUFFLE	COMPRESS_BYTE_COUNT	458004
+SHUFFLE	COPY_MAP_DATA	167866000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1656506
+SHUFFLE	COMPRESS_BYTE_COUNT	475552
+SHUFFLE	COPY_MAP_DATA	65928000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1659137
+SHUFFLE	COMPRESS_BYTE_COUNT	482246
+SHUFFLE	COPY_MAP_DATA	27538000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1712124
+SHUFFLE	COMPRESS_BYTE_COUNT	487437
+SHUFFLE	COPY_MAP_DATA	95665000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1542311
+SHUFFLE	COMPRESS_BYTE_COUNT	451405
+SHUFFLE	COPY_MAP_DATA	25815000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1727708
+SHUFFLE	COMPRESS_BYTE_COUNT	479436
+SHUFFLE	COPY_MAP_DATA	72435000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1470581
+SHUFFLE	COMPRESS_BYTE_COUNT	436090
+SHUFFLE	COPY_MAP_DATA	33436000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1639398
+SHUFFLE	COMPRESS_BYTE_COUNT	456952
+SHUFFLE	COPY_MAP_DATA	29227000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1574737
+SHUFFLE	COMPRESS_BYTE_COUNT	470068
+SHUFFLE	COPY_MAP_DATA	105984000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1864002
+SHUFFLE	COMPRESS_BYTE_COUNT	576265
+SHUFFLE	COPY_MAP_DATA	122479000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1846582
+SHUFFLE	COMPRESS_BYTE_COUNT	570593
+SHUFFLE	COPY_MAP_DATA	30931000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1628386
+SHUFFLE	COMPRESS_BYTE_COUNT	475706
+SHUFFLE	COPY_MAP_DATA	108587000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1539577
+SHUFFLE	COMPRESS_BYTE_COUNT	448420
+SHUFFLE	COPY_MAP_DATA	128457000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1775181
+SHUFFLE	COMPRESS_BYTE_COUNT	516586
+SHUFFLE	COPY_MAP_DATA	31418000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1568769
+SHUFFLE	COMPRESS_BYTE_COUNT	467071
+SHUFFLE	COPY_MAP_DATA	62993000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2174227
+SHUFFLE	COMPRESS_BYTE_COUNT	534585
+SHUFFLE	COPY_MAP_DATA	164511000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1631488
+SHUFFLE	COMPRESS_BYTE_COUNT	476400
+SHUFFLE	COPY_MAP_DATA	46997000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1748832
+SHUFFLE	COMPRESS_BYTE_COUNT	521765
+SHUFFLE	COPY_MAP_DATA	27002000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1777735
+SHUFFLE	COMPRESS_BYTE_COUNT	488502
+SHUFFLE	COPY_MAP_DATA	25648000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1613317
+SHUFFLE	COMPRESS_BYTE_COUNT	470889
+SHUFFLE	COPY_MAP_DATA	25842000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1752194
+SHUFFLE	COMPRESS_BYTE_COUNT	539026
+SHUFFLE	COPY_MAP_DATA	534375000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	835936
+SHUFFLE	COMPRESS_BYTE_COUNT	234569
+SHUFFLE	COPY_MAP_DATA	33645000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1450674
+SHUFFLE	COMPRESS_BYTE_COUNT	429529
+SHUFFLE	COPY_MAP_DATA	42574000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1512796
+SHUFFLE	COMPRESS_BYTE_COUNT	439020
+SHUFFLE	COPY_MAP_DATA	720495000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1662552
+SHUFFLE	COMPRESS_BYTE_COUNT	458344
+SHUFFLE	COPY_MAP_DATA	26207000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	950345
+SHUFFLE	COMPRESS_BYTE_COUNT	257284
+SHUFFLE	COPY_MAP_DATA	733560000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	894576
+SHUFFLE	COMPRESS_BYTE_COUNT	261227
+SHUFFLE	COPY_MAP_DATA	193948000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	799819
+SHUFFLE	COMPRESS_BYTE_COUNT	235889
+SHUFFLE	COPY_MAP_DATA	68533000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	974192
+SHUFFLE	COMPRESS_BYTE_COUNT	286018
+SHUFFLE	COPY_MAP_DATA	77733000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1526447
+SHUFFLE	COMPRESS_BYTE_COUNT	461017
+SHUFFLE	COPY_MAP_DATA	23825000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	786962
+SHUFFLE	COMPRESS_BYTE_COUNT	235344
+SHUFFLE	COPY_MAP_DATA	13870000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1764980
+SHUFFLE	COMPRESS_BYTE_COUNT	483347
+SHUFFLE	COPY_MAP_DATA	506480000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1366026
+SHUFFLE	COMPRESS_BYTE_COUNT	417354
+SHUFFLE	COPY_MAP_DATA	182931000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	840052
+SHUFFLE	COMPRESS_BYTE_COUNT	238524
+SHUFFLE	COPY_MAP_DATA	34927000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1548179
+SHUFFLE	COMPRESS_BYTE_COUNT	456635
+SHUFFLE	COPY_MAP_DATA	65749000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1729011
+SHUFFLE	COMPRESS_BYTE_COUNT	472717
+SHUFFLE	COPY_MAP_DATA	45149000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1622788
+SHUFFLE	COMPRESS_BYTE_COUNT	481621
+SHUFFLE	COPY_MAP_DATA	76495000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1514198
+SHUFFLE	COMPRESS_BYTE_COUNT	423632
+SHUFFLE	COPY_MAP_DATA	298688000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1010959
+SHUFFLE	COMPRESS_BYTE_COUNT	289694
+SHUFFLE	COPY_MAP_DATA	474475000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1543859
+SHUFFLE	COMPRESS_BYTE_COUNT	444622
+SHUFFLE	COPY_MAP_DATA	24336000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1546868
+SHUFFLE	COMPRESS_BYTE_COUNT	452099
+SHUFFLE	COPY_MAP_DATA	146196000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1765070
+SHUFFLE	COMPRESS_BYTE_COUNT	538653
+SHUFFLE	COPY_MAP_DATA	27625000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	941999
+SHUFFLE	COMPRESS_BYTE_COUNT	283451
+SHUFFLE	COPY_MAP_DATA	17197000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1822081
+SHUFFLE	COMPRESS_BYTE_COUNT	519825
+SHUFFLE	COPY_MAP_DATA	26581000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1031281
+SHUFFLE	COMPRESS_BYTE_COUNT	291376
+SHUFFLE	COPY_MAP_DATA	37052000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	938350
+SHUFFLE	COMPRESS_BYTE_COUNT	276392
+SHUFFLE	COPY_MAP_DATA	96256000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1758068
+SHUFFLE	COMPRESS_BYTE_COUNT	480409
+SHUFFLE	COPY_MAP_DATA	25879000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1635916
+SHUFFLE	COMPRESS_BYTE_COUNT	494489
+SHUFFLE	COPY_MAP_DATA	67413000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	931387
+SHUFFLE	COMPRESS_BYTE_COUNT	277387
+SHUFFLE	COPY_MAP_DATA	165343000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1421930
+SHUFFLE	COMPRESS_BYTE_COUNT	317154
+SHUFFLE	COPY_MAP_DATA	85208000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1787325
+SHUFFLE	COMPRESS_BYTE_COUNT	524659
+SHUFFLE	COPY_MAP_DATA	68343000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1713032
+SHUFFLE	COMPRESS_BYTE_COUNT	475894
+SHUFFLE	COPY_MAP_DATA	1142796000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	978103
+SHUFFLE	COMPRESS_BYTE_COUNT	288472
+SHUFFLE	COPY_MAP_DATA	652627000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1934740
+SHUFFLE	COMPRESS_BYTE_COUNT	512849
+SHUFFLE	COPY_MAP_DATA	28425000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1528581
+SHUFFLE	COMPRESS_BYTE_COUNT	451438
+SHUFFLE	COPY_MAP_DATA	25141000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	978478
+SHUFFLE	COMPRESS_BYTE_COUNT	288061
+SHUFFLE	COPY_MAP_DATA	660977000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	898107
+SHUFFLE	COMPRESS_BYTE_COUNT	284684
+SHUFFLE	COPY_MAP_DATA	1631094000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1000137
+SHUFFLE	COMPRESS_BYTE_COUNT	296831
+SHUFFLE	COPY_MAP_DATA	325628000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	979027
+SHUFFLE	COMPRESS_BYTE_COUNT	284603
+SHUFFLE	COPY_MAP_DATA	16846000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	971775
+SHUFFLE	COMPRESS_BYTE_COUNT	291548
+SHUFFLE	COPY_MAP_DATA	243384000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	977103
+SHUFFLE	COMPRESS_BYTE_COUNT	292758
+SHUFFLE	COPY_MAP_DATA	20942000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	960099
+SHUFFLE	COMPRESS_BYTE_COUNT	290898
+SHUFFLE	COPY_MAP_DATA	36908000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	856336
+SHUFFLE	COMPRESS_BYTE_COUNT	255244
+SHUFFLE	COPY_MAP_DATA	121702000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	970454
+SHUFFLE	COMPRESS_BYTE_COUNT	289360
+SHUFFLE	COPY_MAP_DATA	40218000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	975349
+SHUFFLE	COMPRESS_BYTE_COUNT	287402
+SHUFFLE	COPY_MAP_DATA	16310000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	954837
+SHUFFLE	COMPRESS_BYTE_COUNT	289495
+SHUFFLE	COPY_MAP_DATA	16518000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	951382
+SHUFFLE	COMPRESS_BYTE_COUNT	284749
+SHUFFLE	COPY_MAP_DATA	27842000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1035806
+SHUFFLE	COMPRESS_BYTE_COUNT	302087
+SHUFFLE	COPY_MAP_DATA	17079000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	958311
+SHUFFLE	COMPRESS_BYTE_COUNT	288778
+SHUFFLE	COPY_MAP_DATA	139078000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1089025
+SHUFFLE	COMPRESS_BYTE_COUNT	294737
+SHUFFLE	COPY_MAP_DATA	4267374000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	969367
+SHUFFLE	COMPRESS_BYTE_COUNT	291074
+SHUFFLE	COPY_MAP_DATA	254124000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	978516
+SHUFFLE	COMPRESS_BYTE_COUNT	289992
+SHUFFLE	COPY_MAP_DATA	105279000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1022263
+SHUFFLE	COMPRESS_BYTE_COUNT	306345
+SHUFFLE	COPY_MAP_DATA	76319000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	976219
+SHUFFLE	COMPRESS_BYTE_COUNT	284064
+SHUFFLE	COPY_MAP_DATA	139020000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	946472
+SHUFFLE	COMPRESS_BYTE_COUNT	291565
+SHUFFLE	COPY_MAP_DATA	1485803000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	966428
+SHUFFLE	COMPRESS_BYTE_COUNT	295991
+SHUFFLE	COPY_MAP_DATA	44991000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	969626
+SHUFFLE	COMPRESS_BYTE_COUNT	292779
+SHUFFLE	COPY_MAP_DATA	50517000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	962721
+SHUFFLE	COMPRESS_BYTE_COUNT	293766
+SHUFFLE	COPY_MAP_DATA	16790000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	910839
+SHUFFLE	COMPRESS_BYTE_COUNT	284812
+SHUFFLE	COPY_MAP_DATA	157683000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	967226
+SHUFFLE	COMPRESS_BYTE_COUNT	289547
+SHUFFLE	COPY_MAP_DATA	64273000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	959747
+SHUFFLE	COMPRESS_BYTE_COUNT	294687
+SHUFFLE	COPY_MAP_DATA	286778000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	901528
+SHUFFLE	COMPRESS_BYTE_COUNT	269115
+SHUFFLE	COPY_MAP_DATA	148031000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	953420
+SHUFFLE	COMPRESS_BYTE_COUNT	292125
+SHUFFLE	COPY_MAP_DATA	42164000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1076855
+SHUFFLE	COMPRESS_BYTE_COUNT	302466
+SHUFFLE	COPY_MAP_DATA	95975000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	959928
+SHUFFLE	COMPRESS_BYTE_COUNT	288567
+SHUFFLE	COPY_MAP_DATA	29878000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1031262
+SHUFFLE	COMPRESS_BYTE_COUNT	291489
+SHUFFLE	COPY_MAP_DATA	170204000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	933508
+SHUFFLE	COMPRESS_BYTE_COUNT	295601
+SHUFFLE	COPY_MAP_DATA	17324000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	952696
+SHUFFLE	COMPRESS_BYTE_COUNT	285280
+SHUFFLE	COPY_MAP_DATA	76376000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	954517
+SHUFFLE	COMPRESS_BYTE_COUNT	292419
+SHUFFLE	COPY_MAP_DATA	17393000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	973430
+SHUFFLE	COMPRESS_BYTE_COUNT	265665
+SHUFFLE	COPY_MAP_DATA	16342000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	922745
+SHUFFLE	COMPRESS_BYTE_COUNT	290388
+SHUFFLE	COPY_MAP_DATA	15394000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	915047
+SHUFFLE	COMPRESS_BYTE_COUNT	286763
+SHUFFLE	COPY_MAP_DATA	17609000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	927267
+SHUFFLE	COMPRESS_BYTE_COUNT	285038
+SHUFFLE	COPY_MAP_DATA	102973000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	923793
+SHUFFLE	COMPRESS_BYTE_COUNT	290608
+SHUFFLE	COPY_MAP_DATA	21975000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	938344
+SHUFFLE	COMPRESS_BYTE_COUNT	295283
+SHUFFLE	COPY_MAP_DATA	507640000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	965184
+SHUFFLE	COMPRESS_BYTE_COUNT	276241
+SHUFFLE	COPY_MAP_DATA	50575000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	909716
+SHUFFLE	COMPRESS_BYTE_COUNT	280799
+SHUFFLE	COPY_MAP_DATA	56095000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	958207
+SHUFFLE	COMPRESS_BYTE_COUNT	287118
+SHUFFLE	COPY_MAP_DATA	19783000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	909805
+SHUFFLE	COMPRESS_BYTE_COUNT	286770
+SHUFFLE	COPY_MAP_DATA	16684000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	965779
+SHUFFLE	COMPRESS_BYTE_COUNT	297683
+SHUFFLE	COPY_MAP_DATA	21119000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	946055
+SHUFFLE	COMPRESS_BYTE_COUNT	290513
+SHUFFLE	COPY_MAP_DATA	66595000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	890562
+SHUFFLE	COMPRESS_BYTE_COUNT	276529
+SHUFFLE	COPY_MAP_DATA	74669000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	979826
+SHUFFLE	COMPRESS_BYTE_COUNT	289961
+SHUFFLE	COPY_MAP_DATA	110654000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	885368
+SHUFFLE	COMPRESS_BYTE_COUNT	278934
+SHUFFLE	COPY_MAP_DATA	122320000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	944235
+SHUFFLE	COMPRESS_BYTE_COUNT	287011
+SHUFFLE	COPY_MAP_DATA	316182000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	967240
+SHUFFLE	COMPRESS_BYTE_COUNT	291361
+SHUFFLE	COPY_MAP_DATA	35159000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	954152
+SHUFFLE	COMPRESS_BYTE_COUNT	291696
+SHUFFLE	COPY_MAP_DATA	45092000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	866914
+SHUFFLE	COMPRESS_BYTE_COUNT	271188
+SHUFFLE	COPY_MAP_DATA	21867000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	899267
+SHUFFLE	COMPRESS_BYTE_COUNT	279741
+SHUFFLE	COPY_MAP_DATA	41320000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	947812
+SHUFFLE	COMPRESS_BYTE_COUNT	290419
+SHUFFLE	COPY_MAP_DATA	65042000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	928229
+SHUFFLE	COMPRESS_BYTE_COUNT	291921
+SHUFFLE	COPY_MAP_DATA	30666000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	932848
+SHUFFLE	COMPRESS_BYTE_COUNT	288992
+SHUFFLE	COPY_MAP_DATA	45406000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	932556
+SHUFFLE	COMPRESS_BYTE_COUNT	286129
+SHUFFLE	COPY_MAP_DATA	16712000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	949397
+SHUFFLE	COMPRESS_BYTE_COUNT	289881
+SHUFFLE	COPY_MAP_DATA	92944000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	950008
+SHUFFLE	COMPRESS_BYTE_COUNT	291536
+SHUFFLE	COPY_MAP_DATA	18393000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	867750
+SHUFFLE	COMPRESS_BYTE_COUNT	273692
+SHUFFLE	COPY_MAP_DATA	16194000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	871052
+SHUFFLE	COMPRESS_BYTE_COUNT	274982
+SHUFFLE	COPY_MAP_DATA	16453000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	849603
+SHUFFLE	COMPRESS_BYTE_COUNT	269777
+SHUFFLE	COPY_MAP_DATA	16117000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	861281
+SHUFFLE	COMPRESS_BYTE_COUNT	271492
+SHUFFLE	COPY_MAP_DATA	17660000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	932966
+SHUFFLE	COMPRESS_BYTE_COUNT	286263
+SHUFFLE	COPY_MAP_DATA	15979000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	928704
+SHUFFLE	COMPRESS_BYTE_COUNT	285124
+SHUFFLE	COPY_MAP_DATA	16645000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	864422
+SHUFFLE	COMPRESS_BYTE_COUNT	268848
+SHUFFLE	COPY_MAP_DATA	38859000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	862771
+SHUFFLE	COMPRESS_BYTE_COUNT	270735
+SHUFFLE	COPY_MAP_DATA	16866000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	875531
+SHUFFLE	COMPRESS_BYTE_COUNT	275107
+SHUFFLE	COPY_MAP_DATA	17349000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	877470
+SHUFFLE	COMPRESS_BYTE_COUNT	281006
+SHUFFLE	COPY_MAP_DATA	376683000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	922407
+SHUFFLE	COMPRESS_BYTE_COUNT	289041
+SHUFFLE	COPY_MAP_DATA	115175000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	939263
+SHUFFLE	COMPRESS_BYTE_COUNT	291852
+SHUFFLE	COPY_MAP_DATA	17526000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	879026
+SHUFFLE	COMPRESS_BYTE_COUNT	274561
+SHUFFLE	COPY_MAP_DATA	370533000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	957800
+SHUFFLE	COMPRESS_BYTE_COUNT	282820
+SHUFFLE	COPY_MAP_DATA	16514000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	926308
+SHUFFLE	COMPRESS_BYTE_COUNT	289657
+SHUFFLE	COPY_MAP_DATA	54702000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	885614
+SHUFFLE	COMPRESS_BYTE_COUNT	284118
+SHUFFLE	COPY_MAP_DATA	107932000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	876105
+SHUFFLE	COMPRESS_BYTE_COUNT	279405
+SHUFFLE	COPY_MAP_DATA	35587000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	868233
+SHUFFLE	COMPRESS_BYTE_COUNT	262235
+SHUFFLE	COPY_MAP_DATA	393367000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	864968
+SHUFFLE	COMPRESS_BYTE_COUNT	275950
+SHUFFLE	COPY_MAP_DATA	149286000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	842603
+SHUFFLE	COMPRESS_BYTE_COUNT	265323
+SHUFFLE	COPY_MAP_DATA	36492000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	812238
+SHUFFLE	COMPRESS_BYTE_COUNT	260138
+SHUFFLE	COPY_MAP_DATA	459561000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	869643
+SHUFFLE	COMPRESS_BYTE_COUNT	253494
+SHUFFLE	COPY_MAP_DATA	1721533000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	874478
+SHUFFLE	COMPRESS_BYTE_COUNT	278216
+SHUFFLE	COPY_MAP_DATA	16193000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	840198
+SHUFFLE	COMPRESS_BYTE_COUNT	251323
+SHUFFLE	COPY_MAP_DATA	13736000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	931955
+SHUFFLE	COMPRESS_BYTE_COUNT	284861
+SHUFFLE	COPY_MAP_DATA	99950000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	894997
+SHUFFLE	COMPRESS_BYTE_COUNT	273448
+SHUFFLE	COPY_MAP_DATA	15841000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	893657
+SHUFFLE	COMPRESS_BYTE_COUNT	281700
+SHUFFLE	COPY_MAP_DATA	15984000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	879041
+SHUFFLE	COMPRESS_BYTE_COUNT	269145
+SHUFFLE	COPY_MAP_DATA	90556000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	830097
+SHUFFLE	COMPRESS_BYTE_COUNT	259265
+SHUFFLE	COPY_MAP_DATA	66413000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	881599
+SHUFFLE	COMPRESS_BYTE_COUNT	272520
+SHUFFLE	COPY_MAP_DATA	59523000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	924909
+SHUFFLE	COMPRESS_BYTE_COUNT	284718
+SHUFFLE	COPY_MAP_DATA	23756000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	841838
+SHUFFLE	COMPRESS_BYTE_COUNT	255093
+SHUFFLE	COPY_MAP_DATA	87899000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	821801
+SHUFFLE	COMPRESS_BYTE_COUNT	267278
+SHUFFLE	COPY_MAP_DATA	15965000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	836792
+SHUFFLE	COMPRESS_BYTE_COUNT	250536
+SHUFFLE	COPY_MAP_DATA	14839000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	781546
+SHUFFLE	COMPRESS_BYTE_COUNT	239275
+SHUFFLE	COPY_MAP_DATA	14335000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	864981
+SHUFFLE	COMPRESS_BYTE_COUNT	261046
+SHUFFLE	COPY_MAP_DATA	15979000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	935189
+SHUFFLE	COMPRESS_BYTE_COUNT	276223
+SHUFFLE	COPY_MAP_DATA	16990000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	794868
+SHUFFLE	COMPRESS_BYTE_COUNT	242082
+SHUFFLE	COPY_MAP_DATA	13159000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	820673
+SHUFFLE	COMPRESS_BYTE_COUNT	266440
+SHUFFLE	COPY_MAP_DATA	15715000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	854957
+SHUFFLE	COMPRESS_BYTE_COUNT	254273
+SHUFFLE	COPY_MAP_DATA	26265000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	826576
+SHUFFLE	COMPRESS_BYTE_COUNT	255835
+SHUFFLE	COPY_MAP_DATA	14608000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	831928
+SHUFFLE	COMPRESS_BYTE_COUNT	247870
+SHUFFLE	COPY_MAP_DATA	15600000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	849173
+SHUFFLE	COMPRESS_BYTE_COUNT	253749
+SHUFFLE	COPY_MAP_DATA	22025000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	953474
+SHUFFLE	COMPRESS_BYTE_COUNT	284084
+SHUFFLE	COPY_MAP_DATA	192113000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	859742
+SHUFFLE	COMPRESS_BYTE_COUNT	259104
+SHUFFLE	COPY_MAP_DATA	1647586000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	843201
+SHUFFLE	COMPRESS_BYTE_COUNT	255690
+SHUFFLE	COPY_MAP_DATA	14958000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	797466
+SHUFFLE	COMPRESS_BYTE_COUNT	244536
+SHUFFLE	COPY_MAP_DATA	46267000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	829274
+SHUFFLE	COMPRESS_BYTE_COUNT	242666
+SHUFFLE	COPY_MAP_DATA	14866000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	878475
+SHUFFLE	COMPRESS_BYTE_COUNT	261472
+SHUFFLE	COPY_MAP_DATA	16512000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	750483
+SHUFFLE	COMPRESS_BYTE_COUNT	231709
+SHUFFLE	COPY_MAP_DATA	13822000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	798931
+SHUFFLE	COMPRESS_BYTE_COUNT	202841
+SHUFFLE	COPY_MAP_DATA	248821000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	789477
+SHUFFLE	COMPRESS_BYTE_COUNT	246222
+SHUFFLE	COPY_MAP_DATA	31612000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	916984
+SHUFFLE	COMPRESS_BYTE_COUNT	278472
+SHUFFLE	COPY_MAP_DATA	78314000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	795358
+SHUFFLE	COMPRESS_BYTE_COUNT	241079
+SHUFFLE	COPY_MAP_DATA	99614000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	829865
+SHUFFLE	COMPRESS_BYTE_COUNT	255662
+SHUFFLE	COPY_MAP_DATA	72134000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	745413
+SHUFFLE	COMPRESS_BYTE_COUNT	230373
+SHUFFLE	COPY_MAP_DATA	14341000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	743204
+SHUFFLE	COMPRESS_BYTE_COUNT	232568
+SHUFFLE	COPY_MAP_DATA	53342000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	811752
+SHUFFLE	COMPRESS_BYTE_COUNT	248538
+SHUFFLE	COPY_MAP_DATA	34298000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	797694
+SHUFFLE	COMPRESS_BYTE_COUNT	236240
+SHUFFLE	COPY_MAP_DATA	15858000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	849597
+SHUFFLE	COMPRESS_BYTE_COUNT	253442
+SHUFFLE	COPY_MAP_DATA	68650000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	774448
+SHUFFLE	COMPRESS_BYTE_COUNT	230898
+SHUFFLE	COPY_MAP_DATA	13268000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	817941
+SHUFFLE	COMPRESS_BYTE_COUNT	240073
+SHUFFLE	COPY_MAP_DATA	14278000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	804484
+SHUFFLE	COMPRESS_BYTE_COUNT	246681
+SHUFFLE	COPY_MAP_DATA	16744000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	759877
+SHUFFLE	COMPRESS_BYTE_COUNT	234009
+SHUFFLE	COPY_MAP_DATA	82145000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	779368
+SHUFFLE	COMPRESS_BYTE_COUNT	239017
+SHUFFLE	COPY_MAP_DATA	45171000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	805211
+SHUFFLE	COMPRESS_BYTE_COUNT	249148
+SHUFFLE	COPY_MAP_DATA	15525000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	806332
+SHUFFLE	COMPRESS_BYTE_COUNT	240722
+SHUFFLE	COPY_MAP_DATA	15730000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	926918
+SHUFFLE	COMPRESS_BYTE_COUNT	274089
+SHUFFLE	COPY_MAP_DATA	16135000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	841175
+SHUFFLE	COMPRESS_BYTE_COUNT	259455
+SHUFFLE	COPY_MAP_DATA	14377000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	848265
+SHUFFLE	COMPRESS_BYTE_COUNT	259525
+SHUFFLE	COPY_MAP_DATA	47532000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	821949
+SHUFFLE	COMPRESS_BYTE_COUNT	250898
+SHUFFLE	COPY_MAP_DATA	78667000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	844532
+SHUFFLE	COMPRESS_BYTE_COUNT	230084
+SHUFFLE	COPY_MAP_DATA	15881000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1120800
+SHUFFLE	COMPRESS_BYTE_COUNT	359737
+SHUFFLE	COPY_MAP_DATA	25054000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	890561
+SHUFFLE	COMPRESS_BYTE_COUNT	262385
+SHUFFLE	COPY_MAP_DATA	42764000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	796900
+SHUFFLE	COMPRESS_BYTE_COUNT	237234
+SHUFFLE	COPY_MAP_DATA	15789000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	773638
+SHUFFLE	COMPRESS_BYTE_COUNT	233737
+SHUFFLE	COPY_MAP_DATA	42842000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	732230
+SHUFFLE	COMPRESS_BYTE_COUNT	224432
+SHUFFLE	COPY_MAP_DATA	13602000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	806439
+SHUFFLE	COMPRESS_BYTE_COUNT	240988
+SHUFFLE	COPY_MAP_DATA	16033000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	769528
+SHUFFLE	COMPRESS_BYTE_COUNT	236391
+SHUFFLE	COPY_MAP_DATA	15120000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	856699
+SHUFFLE	COMPRESS_BYTE_COUNT	263095
+SHUFFLE	COPY_MAP_DATA	21752000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	801566
+SHUFFLE	COMPRESS_BYTE_COUNT	244193
+SHUFFLE	COPY_MAP_DATA	14767000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	780565
+SHUFFLE	COMPRESS_BYTE_COUNT	232367
+SHUFFLE	COPY_MAP_DATA	49103000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	935540
+SHUFFLE	COMPRESS_BYTE_COUNT	267887
+SHUFFLE	COPY_MAP_DATA	1787436000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	769941
+SHUFFLE	COMPRESS_BYTE_COUNT	227976
+SHUFFLE	COPY_MAP_DATA	13443000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	783184
+SHUFFLE	COMPRESS_BYTE_COUNT	235121
+SHUFFLE	COPY_MAP_DATA	13737000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	758766
+SHUFFLE	COMPRESS_BYTE_COUNT	232979
+SHUFFLE	COPY_MAP_DATA	72874000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	950393
+SHUFFLE	COMPRESS_BYTE_COUNT	279541
+SHUFFLE	COPY_MAP_DATA	225262000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	852024
+SHUFFLE	COMPRESS_BYTE_COUNT	243906
+SHUFFLE	COPY_MAP_DATA	244765000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	763722
+SHUFFLE	COMPRESS_BYTE_COUNT	232690
+SHUFFLE	COPY_MAP_DATA	319020000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	740938
+SHUFFLE	COMPRESS_BYTE_COUNT	229869
+SHUFFLE	COPY_MAP_DATA	73608000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	775666
+SHUFFLE	COMPRESS_BYTE_COUNT	235536
+SHUFFLE	COPY_MAP_DATA	14743000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	821565
+SHUFFLE	COMPRESS_BYTE_COUNT	243122
+SHUFFLE	COPY_MAP_DATA	16039000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	710706
+SHUFFLE	COMPRESS_BYTE_COUNT	216122
+SHUFFLE	COPY_MAP_DATA	216100000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	760608
+SHUFFLE	COMPRESS_BYTE_COUNT	226357
+SHUFFLE	COPY_MAP_DATA	318831000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	780568
+SHUFFLE	COMPRESS_BYTE_COUNT	229328
+SHUFFLE	COPY_MAP_DATA	14466000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	763913
+SHUFFLE	COMPRESS_BYTE_COUNT	228175
+SHUFFLE	COPY_MAP_DATA	25593000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	786578
+SHUFFLE	COMPRESS_BYTE_COUNT	235736
+SHUFFLE	COPY_MAP_DATA	19026000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1057107
+SHUFFLE	COMPRESS_BYTE_COUNT	339660
+SHUFFLE	COPY_MAP_DATA	26145000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	800264
+SHUFFLE	COMPRESS_BYTE_COUNT	250311
+SHUFFLE	COPY_MAP_DATA	14196000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	845666
+SHUFFLE	COMPRESS_BYTE_COUNT	245167
+SHUFFLE	COPY_MAP_DATA	16324000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	778875
+SHUFFLE	COMPRESS_BYTE_COUNT	226284
+SHUFFLE	COPY_MAP_DATA	367360000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	775743
+SHUFFLE	COMPRESS_BYTE_COUNT	236142
+SHUFFLE	COPY_MAP_DATA	32780000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	746204
+SHUFFLE	COMPRESS_BYTE_COUNT	225539
+SHUFFLE	COPY_MAP_DATA	31214000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	822567
+SHUFFLE	COMPRESS_BYTE_COUNT	255225
+SHUFFLE	COPY_MAP_DATA	16606000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	844912
+SHUFFLE	COMPRESS_BYTE_COUNT	255656
+SHUFFLE	COPY_MAP_DATA	25301000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	847872
+SHUFFLE	COMPRESS_BYTE_COUNT	256514
+SHUFFLE	COPY_MAP_DATA	197878000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	932071
+SHUFFLE	COMPRESS_BYTE_COUNT	261417
+SHUFFLE	COPY_MAP_DATA	16918000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	715248
+SHUFFLE	COMPRESS_BYTE_COUNT	223810
+SHUFFLE	COPY_MAP_DATA	12359000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	862614
+SHUFFLE	COMPRESS_BYTE_COUNT	249811
+SHUFFLE	COPY_MAP_DATA	339736000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	796217
+SHUFFLE	COMPRESS_BYTE_COUNT	232490
+SHUFFLE	COPY_MAP_DATA	13699000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	866399
+SHUFFLE	COMPRESS_BYTE_COUNT	240221
+SHUFFLE	COPY_MAP_DATA	13861000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	985009
+SHUFFLE	COMPRESS_BYTE_COUNT	274290
+SHUFFLE	COPY_MAP_DATA	64427000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	811038
+SHUFFLE	COMPRESS_BYTE_COUNT	249085
+SHUFFLE	COPY_MAP_DATA	172414000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	844356
+SHUFFLE	COMPRESS_BYTE_COUNT	240010
+SHUFFLE	COPY_MAP_DATA	180094000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	947145
+SHUFFLE	COMPRESS_BYTE_COUNT	264127
+SHUFFLE	COPY_MAP_DATA	15850000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	871690
+SHUFFLE	COMPRESS_BYTE_COUNT	256989
+SHUFFLE	COPY_MAP_DATA	72619000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	745768
+SHUFFLE	COMPRESS_BYTE_COUNT	232575
+SHUFFLE	COPY_MAP_DATA	24400000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	902757
+SHUFFLE	COMPRESS_BYTE_COUNT	256750
+SHUFFLE	COPY_MAP_DATA	14834000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1342301
+SHUFFLE	COMPRESS_BYTE_COUNT	295864
+SHUFFLE	COPY_MAP_DATA	38544000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	988226
+SHUFFLE	COMPRESS_BYTE_COUNT	309652
+SHUFFLE	COPY_MAP_DATA	54968000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	760030
+SHUFFLE	COMPRESS_BYTE_COUNT	227909
+SHUFFLE	COPY_MAP_DATA	123265000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	779191
+SHUFFLE	COMPRESS_BYTE_COUNT	233654
+SHUFFLE	COPY_MAP_DATA	19770000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	700193
+SHUFFLE	COMPRESS_BYTE_COUNT	212282
+SHUFFLE	COPY_MAP_DATA	404636000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	788151
+SHUFFLE	COMPRESS_BYTE_COUNT	244641
+SHUFFLE	COPY_MAP_DATA	26147000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	745250
+SHUFFLE	COMPRESS_BYTE_COUNT	222386
+SHUFFLE	COPY_MAP_DATA	21738000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	717983
+SHUFFLE	COMPRESS_BYTE_COUNT	205288
+SHUFFLE	COPY_MAP_DATA	12444000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	737797
+SHUFFLE	COMPRESS_BYTE_COUNT	172859
+SHUFFLE	COPY_MAP_DATA	11568000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	750706
+SHUFFLE	COMPRESS_BYTE_COUNT	239163
+SHUFFLE	COPY_MAP_DATA	14807000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	715248
+SHUFFLE	COMPRESS_BYTE_COUNT	223810
+SHUFFLE	COPY_MAP_DATA	486833000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	811682
+SHUFFLE	COMPRESS_BYTE_COUNT	244518
+SHUFFLE	COPY_MAP_DATA	13860000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	767679
+SHUFFLE	COMPRESS_BYTE_COUNT	230701
+SHUFFLE	COPY_MAP_DATA	19859000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	623001
+SHUFFLE	COMPRESS_BYTE_COUNT	122729
+SHUFFLE	COPY_MAP_DATA	57251000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	939455
+SHUFFLE	COMPRESS_BYTE_COUNT	283678
+SHUFFLE	COPY_MAP_DATA	15934000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	868678
+SHUFFLE	COMPRESS_BYTE_COUNT	250568
+SHUFFLE	COPY_MAP_DATA	18895000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1012820
+SHUFFLE	COMPRESS_BYTE_COUNT	272359
+SHUFFLE	COPY_MAP_DATA	16944000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	867196
+SHUFFLE	COMPRESS_BYTE_COUNT	232260
+SHUFFLE	COPY_MAP_DATA	15587000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	862225
+SHUFFLE	COMPRESS_BYTE_COUNT	243353
+SHUFFLE	COPY_MAP_DATA	12794000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	620260
+SHUFFLE	COMPRESS_BYTE_COUNT	198868
+SHUFFLE	COPY_MAP_DATA	11849000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	949733
+SHUFFLE	COMPRESS_BYTE_COUNT	254645
+SHUFFLE	COPY_MAP_DATA	14829000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	780795
+SHUFFLE	COMPRESS_BYTE_COUNT	242600
+SHUFFLE	COPY_MAP_DATA	14347000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	747788
+SHUFFLE	COMPRESS_BYTE_COUNT	221389
+SHUFFLE	COPY_MAP_DATA	13069000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	908373
+SHUFFLE	COMPRESS_BYTE_COUNT	291038
+SHUFFLE	COPY_MAP_DATA	16378000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	773920
+SHUFFLE	COMPRESS_BYTE_COUNT	230745
+SHUFFLE	COPY_MAP_DATA	13620000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	954730
+SHUFFLE	COMPRESS_BYTE_COUNT	311234
+SHUFFLE	COPY_MAP_DATA	17434000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	809342
+SHUFFLE	COMPRESS_BYTE_COUNT	250899
+SHUFFLE	COPY_MAP_DATA	14717000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	251631376152
+MERGE	READ_WRITE	249857619152
+MERGE	READ_WRITE_COUNT	2
+MERGE	COMBINE	0
+MERGE	WRITE	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	35791730000
+SORT	READ_WRITE	35687499000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	148042336
+REDUCE	SETUP	361000
+REDUCE	SETUP_MEM	148042336
+REDUCE	CLEANUP	40000
+REDUCE	CLEANUP_MEM	154462896
+REDUCE	TOTAL_RUN	107012091695
+REDUCE	READ	8221060000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	90082453695
+REDUCE	WRITE	30906620749
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	70328752
+REDUCE	VALUE_BYTE_COUNT	63640284
+REDUCE	REDUCE_MEM	154462896
+REDUCE	WRITE	14211000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	769965888847
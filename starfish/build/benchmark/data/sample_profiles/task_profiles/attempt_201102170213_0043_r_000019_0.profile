@@ -0,0 +1,1333 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2007847
+SHUFFLE	COMPRESS_BYTE_COUNT	582476
+SHUFFLE	COPY_MAP_DATA	1008101000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1927527
+SHUFFLE	COMPRESS_BYTE_COUNT	557511
+SHUFFLE	COPY_MAP_DATA	33323000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2007928
+SHUFFLE	COMPRESS_BYTE_COUNT	567608
+SHUFFLE	COPY_MAP_DATA	40965000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1724503
+SHUFFLE	COMPRESS_BYTE_COUNT	478471
+SHUFFLE	COPY_MAP_DATA	455072000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1961293
+SHUFFLE	COMPRESS_BYTE_COUNT	541773
+SHUFFLE	COPY_MAP_DATA	38808000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1883609
+SHUFFLE	COMPRESS_BYTE_COUNT	481841
+SHUFFLE	COPY_MAP_DATA	88288000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1918664
+SHUFFLE	COMPRESS_BYTE_COUNT	561238
+SHUFFLE	COPY_MAP_DATA	202839000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2015814
+SHUFFLE	COMPRESS_BYTE_COUNT	569000
+SHUFFLE	COPY_MAP_DATA	75362000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1919773
+SHUFFLE	COMPRESS_BYTE_COUNT	578669
+SHUFFLE	COPY_MAP_DATA	41431000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2004347
+SHUFFLE	COMPRESS_BYTE_COUNT	552518
+SHUFFLE	COPY_MAP_DATA	86630000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1946014
+SHUFFLE	COMPRESS_BYTE_COUNT	562187
+SHUFFLE	COPY_MAP_DATA	161692000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1955676
+SHUFFLE	COMPRESS_BYTE_COUNT	574242
+SHUFFLE	COPY_MAP_DATA	97130000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2073962
+SHUFFLE	COMPRESS_BYTE_COUNT	567689
+SHUFFLE	COPY_MAP_DATA	37085000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1843426
+SHUFFLE	COMPRESS_BYTE_COUNT	551031
+SHUFFLE	COPY_MAP_DATA	228853000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2055942
+SHUFFLE	COMPRESS_BYTE_COUNT	580847
+SHUFFLE	COPY_MAP_DATA	251452000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2197873
+SHUFFLE	COMPRESS_BYTE_COUNT	591750
+SHUFFLE	COPY_MAP_DATA	40047000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1975262
+SHUFFLE	COMPRESS_BYTE_COUNT	577701
+SHUFFLE	COPY_MAP_DATA	215604000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2094514
+SHUFFLE	COMPRESS_BYTE_COUNT	583336
+SHUFFLE	COPY_MAP_DATA	29347000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1935388
+SHUFFLE	COMPRESS_BYTE_COUNT	569330
+SHUFFLE	COPY_MAP_DATA	28814000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2019336
+SHUFFLE	COMPRESS_BYTE_COUNT	553259
+SHUFFLE	COPY_MAP_DATA	29324000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2017414
+SHUFFLE	COMPRESS_BYTE_COUNT	575351
+SHUFFLE	COPY_MAP_DATA	30022000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2052559
+SHUFFLE	COMPRESS_BYTE_COUNT	572930
+SHUFFLE	COPY_MAP_DATA	35515000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2075035
+SHUFFLE	COMPRESS_BYTE_COUNT	554156
+SHUFFLE	COPY_MAP_DATA	78494000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1958891
+SHUFFLE	COMPRESS_BYTE_COUNT	575280
+SHUFFLE	COPY_MAP_DATA	67632000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1804633
+SHUFFLE	COMPRESS_BYTE_COUNT	489609
+SHUFFLE	COPY_MAP_DATA	24748000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1981191
+SHUFFLE	COMPRESS_BYTE_COUNT	570882
+SHUFFLE	COPY_MAP_DATA	60537000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1918064
+SHUFFLE	COMPRESS_BYTE_COUNT	564443
+SHUFFLE	COPY_MAP_DATA	76674000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2077707
+SHUFFLE	COMPRESS_BYTE_COUNT	567023
+SHUFFLE	COPY_MAP_DATA	59475000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1953964
+SHUFFLE	COMPRESS_BYTE_COUNT	576029
+SHUFFLE	COPY_MAP_DATA	277067000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2064096
+SHUFFLE	COMPRESS_BYTE_COUNT	562127
+SHUFFLE	COPY_MAP_DATA	28494000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1842019
+SHUFFLE	COMPRESS_BYTE_COUNT	545659
+SHUFFLE	COPY_MAP_DATA	54408000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1885644
+SHUFFLE	COMPRESS_BYTE_COUNT	560598
+SHUFFLE	COPY_MAP_DATA	30358000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1885687
+SHUFFLE	COMPRESS_BYTE_COUNT	561361
+SHUFFLE	COPY_MAP_DATA	28506000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1774686
+SHUFFLE	COMPRESS_BYTE_COUNT	532890
+SHUFFLE	COPY_MAP_DATA	1054866000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1983044
+SHUFFLE	COMPRESS_BYTE_COUNT	574395
+SHUFFLE	COPY_MAP_DATA	60170000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1850116
+SHUFFLE	COMPRESS_BYTE_COUNT	555018
+SHUFFLE	COPY_MAP_DATA	30639000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1822310
+SHUFFLE	COMPRESS_BYTE_COUNT	547052
+SHUFFLE	COPY_MAP_DATA	48401000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1985387
+SHUFFLE	COMPRESS_BYTE_COUNT	572433
+SHUFFLE	COPY_MAP_DATA	155805000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1845915
+SHUFFLE	COMPRESS_BYTE_COUNT	543359
+SHUFFLE	COPY_MAP_DATA	26551000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1584037
+SHUFFLE	COMPRESS_BYTE_COUNT	465620
+SHUFFLE	COPY_MAP_DATA	25929000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1985219
+SHUFFLE	COMPRESS_BYTE_COUNT	582031
+SHUFFLE	COPY_MAP_DATA	82472000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1829675
+SHUFFLE	COMPRESS_BYTE_COUNT	551782
+SHUFFLE	COPY_MAP_DATA	28579000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1667565
+SHUFFLE	COMPRESS_BYTE_COUNT	440153
+SHUFFLE	COPY_MAP_DATA	105091000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1785199
+SHUFFLE	COMPRESS_BYTE_COUNT	544547
+SHUFFLE	COPY_MAP_DATA	46138000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1887370
+SHUFFLE	COMPRESS_BYTE_COUNT	557088
+SHUFFLE	COPY_MAP_DATA	29825000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1935082
+SHUFFLE	COMPRESS_BYTE_COUNT	569160
+SHUFFLE	COPY_MAP_DATA	1162097000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1783204
+SHUFFLE	COMPRESS_BYTE_COUNT	510468
+SHUFFLE	COPY_MAP_DATA	221053000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1660020
+SHUFFLE	COMPRESS_BYTE_COUNT	483665
+SHUFFLE	COPY_MAP_DATA	1067223000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1867563
+SHUFFLE	COMPRESS_BYTE_COUNT	561208
+SHUFFLE	COPY_MAP_DATA	31769000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1862861
+SHUFFLE	COMPRESS_BYTE_COUNT	556853
+SHUFFLE	COPY_MAP_DATA	279502000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1763625
+SHUFFLE	COMPRESS_BYTE_COUNT	506653
+SHUFFLE	COPY_MAP_DATA	195579000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1904482
+SHUFFLE	COMPRESS_BYTE_COUNT	545112
+SHUFFLE	COPY_MAP_DATA	228825000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1736859
+SHUFFLE	COMPRESS_BYTE_COUNT	491066
+SHUFFLE	COPY_MAP_DATA	538068000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1890756
+SHUFFLE	COMPRESS_BYTE_COUNT	540105
+SHUFFLE	COPY_MAP_DATA	2055553000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1855048
+SHUFFLE	COMPRESS_BYTE_COUNT	554502
+SHUFFLE	COPY_MAP_DATA	93109000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1773631
+SHUFFLE	COMPRESS_BYTE_COUNT	509342
+SHUFFLE	COPY_MAP_DATA	47596000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1932122
+SHUFFLE	COMPRESS_BYTE_COUNT	554627
+SHUFFLE	COPY_MAP_DATA	31156000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1920601
+SHUFFLE	COMPRESS_BYTE_COUNT	555967
+SHUFFLE	COPY_MAP_DATA	45750000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1796214
+SHUFFLE	COMPRESS_BYTE_COUNT	537405
+SHUFFLE	COPY_MAP_DATA	28509000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1715850
+SHUFFLE	COMPRESS_BYTE_COUNT	524434
+SHUFFLE	COPY_MAP_DATA	67652000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1606353
+SHUFFLE	COMPRESS_BYTE_COUNT	453727
+SHUFFLE	COPY_MAP_DATA	26679000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1632860
+SHUFFLE	COMPRESS_BYTE_COUNT	484678
+SHUFFLE	COPY_MAP_DATA	26626000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1672076
+SHUFFLE	COMPRESS_BYTE_COUNT	487068
+SHUFFLE	COPY_MAP_DATA	26902000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1693787
+SHUFFLE	COMPRESS_BYTE_COUNT	485516
+SHUFFLE	COPY_MAP_DATA	142522000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1679737
+SHUFFLE	COMPRESS_BYTE_COUNT	490527
+SHUFFLE	COPY_MAP_DATA	29442000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1691823
+SHUFFLE	COMPRESS_BYTE_COUNT	485518
+SHUFFLE	COPY_MAP_DATA	138662000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1842917
+SHUFFLE	COMPRESS_BYTE_COUNT	534493
+SHUFFLE	COPY_MAP_DATA	29278000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1664643
+SHUFFLE	COMPRESS_BYTE_COUNT	465218
+SHUFFLE	COPY_MAP_DATA	74626000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1617619
+SHUFFLE	COMPRESS_BYTE_COUNT	473697
+SHUFFLE	COPY_MAP_DATA	25749000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1659444
+SHUFFLE	COMPRESS_BYTE_COUNT	477037
+SHUFFLE	COPY_MAP_DATA	332988000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1673068
+SHUFFLE	COMPRESS_BYTE_COUNT	462875
+SHUFFLE	COPY_MAP_DATA	26626000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1583282
+SHUFFLE	COMPRESS_BYTE_COUNT	459275
+SHUFFLE	COPY_MAP_DATA	271566000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1561228
+SHUFFLE	COMPRESS_BYTE_COUNT	449988
+SHUFFLE	COPY_MAP_DATA	68755000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1613408
+SHUFFLE	COMPRESS_BYTE_COUNT	473598
+SHUFFLE	COPY_MAP_DATA	60447000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1970520
+SHUFFLE	COMPRESS_BYTE_COUNT	594091
+SHUFFLE	COPY_MAP_DATA	39817000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1643753
+SHUFFLE	COMPRESS_BYTE_COUNT	475645
+SHUFFLE	COPY_MAP_DATA	41071000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1628593
+SHUFFLE	COMPRESS_BYTE_COUNT	462193
+SHUFFLE	COPY_MAP_DATA	47468000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1765440
+SHUFFLE	COMPRESS_BYTE_COUNT	488160
+SHUFFLE	COPY_MAP_DATA	29531000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1664800
+SHUFFLE	COMPRESS_BYTE_COUNT	479129
+SHUFFLE	COPY_MAP_DATA	256118000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1823867
+SHUFFLE	COMPRESS_BYTE_COUNT	526953
+SHUFFLE	COPY_MAP_DATA	191500000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1579590
+SHUFFLE	COMPRESS_BYTE_COUNT	469407
+SHUFFLE	COPY_MAP_DATA	38180000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1842953
+SHUFFLE	COMPRESS_BYTE_COUNT	572502
+SHUFFLE	COPY_MAP_DATA	28183000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1692267
+SHUFFLE	COMPRESS_BYTE_COUNT	489472
+SHUFFLE	COPY_MAP_DATA	56075000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1723908
+SHUFFLE	COMPRESS_BYTE_COUNT	492411
+SHUFFLE	COPY_MAP_DATA	25902000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1738983
+SHUFFLE	COMPRESS_BYTE_COUNT	523941
+SHUFFLE	COPY_MAP_DATA	27601000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1762744
+SHUFFLE	COMPRESS_BYTE_COUNT	544474
+SHUFFLE	COPY_MAP_DATA	27880000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1628722
+SHUFFLE	COMPRESS_BYTE_COUNT	473909
+SHUFFLE	COPY_MAP_DATA	24540000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	863855
+SHUFFLE	COMPRESS_BYTE_COUNT	239892
+SHUFFLE	COPY_MAP_DATA	76017000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1504789
+SHUFFLE	COMPRESS_BYTE_COUNT	439928
+SHUFFLE	COPY_MAP_DATA	5227106000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1484752
+SHUFFLE	COMPRESS_BYTE_COUNT	439521
+SHUFFLE	COPY_MAP_DATA	26478000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1674179
+SHUFFLE	COMPRESS_BYTE_COUNT	466048
+SHUFFLE	COPY_MAP_DATA	24724000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1019756
+SHUFFLE	COMPRESS_BYTE_COUNT	272307
+SHUFFLE	COPY_MAP_DATA	22003000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	942830
+SHUFFLE	COMPRESS_BYTE_COUNT	270614
+SHUFFLE	COPY_MAP_DATA	53941000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	861805
+SHUFFLE	COMPRESS_BYTE_COUNT	247888
+SHUFFLE	COPY_MAP_DATA	15524000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1023587
+SHUFFLE	COMPRESS_BYTE_COUNT	296217
+SHUFFLE	COPY_MAP_DATA	1548367000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	823937
+SHUFFLE	COMPRESS_BYTE_COUNT	242614
+SHUFFLE	COPY_MAP_DATA	186357000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1651344
+SHUFFLE	COMPRESS_BYTE_COUNT	472400
+SHUFFLE	COPY_MAP_DATA	219176000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1519465
+SHUFFLE	COMPRESS_BYTE_COUNT	454372
+SHUFFLE	COPY_MAP_DATA	40429000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	900568
+SHUFFLE	COMPRESS_BYTE_COUNT	252422
+SHUFFLE	COPY_MAP_DATA	46449000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1409754
+SHUFFLE	COMPRESS_BYTE_COUNT	424398
+SHUFFLE	COPY_MAP_DATA	3264348000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1582744
+SHUFFLE	COMPRESS_BYTE_COUNT	471559
+SHUFFLE	COPY_MAP_DATA	28225000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1708123
+SHUFFLE	COMPRESS_BYTE_COUNT	471496
+SHUFFLE	COPY_MAP_DATA	2096927000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1659557
+SHUFFLE	COMPRESS_BYTE_COUNT	488138
+SHUFFLE	COPY_MAP_DATA	63367000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1462906
+SHUFFLE	COMPRESS_BYTE_COUNT	425361
+SHUFFLE	COPY_MAP_DATA	22769000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1009281
+SHUFFLE	COMPRESS_BYTE_COUNT	296026
+SHUFFLE	COPY_MAP_DATA	1224403000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1735465
+SHUFFLE	COMPRESS_BYTE_COUNT	536439
+SHUFFLE	COPY_MAP_DATA	438964000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1525712
+SHUFFLE	COMPRESS_BYTE_COUNT	449494
+SHUFFLE	COPY_MAP_DATA	24372000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1554037
+SHUFFLE	COMPRESS_BYTE_COUNT	444309
+SHUFFLE	COPY_MAP_DATA	151521000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1060524
+SHUFFLE	COMPRESS_BYTE_COUNT	298660
+SHUFFLE	COPY_MAP_DATA	102204000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1087400
+SHUFFLE	COMPRESS_BYTE_COUNT	300601
+SHUFFLE	COPY_MAP_DATA	233034000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1840685
+SHUFFLE	COMPRESS_BYTE_COUNT	529428
+SHUFFLE	COPY_MAP_DATA	28034000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	987637
+SHUFFLE	COMPRESS_BYTE_COUNT	286013
+SHUFFLE	COPY_MAP_DATA	17178000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1750224
+SHUFFLE	COMPRESS_BYTE_COUNT	482609
+SHUFFLE	COPY_MAP_DATA	470843000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1609551
+SHUFFLE	COMPRESS_BYTE_COUNT	345343
+SHUFFLE	COPY_MAP_DATA	731196000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	980762
+SHUFFLE	COMPRESS_BYTE_COUNT	287654
+SHUFFLE	COPY_MAP_DATA	17921000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1629868
+SHUFFLE	COMPRESS_BYTE_COUNT	498783
+SHUFFLE	COPY_MAP_DATA	29665000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1717203
+SHUFFLE	COMPRESS_BYTE_COUNT	486020
+SHUFFLE	COPY_MAP_DATA	136003000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1779554
+SHUFFLE	COMPRESS_BYTE_COUNT	527019
+SHUFFLE	COPY_MAP_DATA	1471235000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1567412
+SHUFFLE	COMPRESS_BYTE_COUNT	463048
+SHUFFLE	COPY_MAP_DATA	25968000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1052041
+SHUFFLE	COMPRESS_BYTE_COUNT	301020
+SHUFFLE	COPY_MAP_DATA	17421000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1045658
+SHUFFLE	COMPRESS_BYTE_COUNT	304101
+SHUFFLE	COPY_MAP_DATA	17431000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1754366
+SHUFFLE	COMPRESS_BYTE_COUNT	496926
+SHUFFLE	COPY_MAP_DATA	26634000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	953366
+SHUFFLE	COMPRESS_BYTE_COUNT	296241
+SHUFFLE	COPY_MAP_DATA	1991546000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1017402
+SHUFFLE	COMPRESS_BYTE_COUNT	297175
+SHUFFLE	COPY_MAP_DATA	17762000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1007487
+SHUFFLE	COMPRESS_BYTE_COUNT	295268
+SHUFFLE	COPY_MAP_DATA	187675000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1021075
+SHUFFLE	COMPRESS_BYTE_COUNT	302402
+SHUFFLE	COPY_MAP_DATA	159288000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	952014
+SHUFFLE	COMPRESS_BYTE_COUNT	273479
+SHUFFLE	COPY_MAP_DATA	63028000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1005358
+SHUFFLE	COMPRESS_BYTE_COUNT	304264
+SHUFFLE	COPY_MAP_DATA	5086283000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	988567
+SHUFFLE	COMPRESS_BYTE_COUNT	292830
+SHUFFLE	COPY_MAP_DATA	772034000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	973212
+SHUFFLE	COMPRESS_BYTE_COUNT	296388
+SHUFFLE	COPY_MAP_DATA	186308000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1019363
+SHUFFLE	COMPRESS_BYTE_COUNT	299539
+SHUFFLE	COPY_MAP_DATA	17567000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1003574
+SHUFFLE	COMPRESS_BYTE_COUNT	295706
+SHUFFLE	COPY_MAP_DATA	17118000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	996838
+SHUFFLE	COMPRESS_BYTE_COUNT	296710
+SHUFFLE	COPY_MAP_DATA	444933000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1034869
+SHUFFLE	COMPRESS_BYTE_COUNT	307697
+SHUFFLE	COPY_MAP_DATA	18265000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1021923
+SHUFFLE	COMPRESS_BYTE_COUNT	299957
+SHUFFLE	COPY_MAP_DATA	17876000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	998140
+SHUFFLE	COMPRESS_BYTE_COUNT	297670
+SHUFFLE	COPY_MAP_DATA	194213000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1080884
+SHUFFLE	COMPRESS_BYTE_COUNT	297157
+SHUFFLE	COPY_MAP_DATA	2200800000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	996825
+SHUFFLE	COMPRESS_BYTE_COUNT	295477
+SHUFFLE	COPY_MAP_DATA	16704000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	992650
+SHUFFLE	COMPRESS_BYTE_COUNT	291737
+SHUFFLE	COPY_MAP_DATA	20670000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1077114
+SHUFFLE	COMPRESS_BYTE_COUNT	315841
+SHUFFLE	COPY_MAP_DATA	25421000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	981668
+SHUFFLE	COMPRESS_BYTE_COUNT	300823
+SHUFFLE	COPY_MAP_DATA	17849000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1000835
+SHUFFLE	COMPRESS_BYTE_COUNT	302167
+SHUFFLE	COPY_MAP_DATA	17560000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1019276
+SHUFFLE	COMPRESS_BYTE_COUNT	305540
+SHUFFLE	COPY_MAP_DATA	18908000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	997513
+SHUFFLE	COMPRESS_BYTE_COUNT	303452
+SHUFFLE	COPY_MAP_DATA	194950000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1152217
+SHUFFLE	COMPRESS_BYTE_COUNT	317335
+SHUFFLE	COPY_MAP_DATA	180475000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	980358
+SHUFFLE	COMPRESS_BYTE_COUNT	294641
+SHUFFLE	COPY_MAP_DATA	208360000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1002491
+SHUFFLE	COMPRESS_BYTE_COUNT	304718
+SHUFFLE	COPY_MAP_DATA	374140000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	957854
+SHUFFLE	COMPRESS_BYTE_COUNT	297856
+SHUFFLE	COPY_MAP_DATA	562603000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1002320
+SHUFFLE	COMPRESS_BYTE_COUNT	299091
+SHUFFLE	COPY_MAP_DATA	17929000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	940109
+SHUFFLE	COMPRESS_BYTE_COUNT	280124
+SHUFFLE	COPY_MAP_DATA	148671000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	968059
+SHUFFLE	COMPRESS_BYTE_COUNT	292618
+SHUFFLE	COPY_MAP_DATA	16681000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	961921
+SHUFFLE	COMPRESS_BYTE_COUNT	304433
+SHUFFLE	COPY_MAP_DATA	18327000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	959470
+SHUFFLE	COMPRESS_BYTE_COUNT	290129
+SHUFFLE	COPY_MAP_DATA	23426000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1018978
+SHUFFLE	COMPRESS_BYTE_COUNT	300144
+SHUFFLE	COPY_MAP_DATA	18369000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	968554
+SHUFFLE	COMPRESS_BYTE_COUNT	296985
+SHUFFLE	COPY_MAP_DATA	18106000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	932968
+SHUFFLE	COMPRESS_BYTE_COUNT	292156
+SHUFFLE	COPY_MAP_DATA	234769000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	973579
+SHUFFLE	COMPRESS_BYTE_COUNT	269521
+SHUFFLE	COPY_MAP_DATA	175012000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	973393
+SHUFFLE	COMPRESS_BYTE_COUNT	300842
+SHUFFLE	COPY_MAP_DATA	17442000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	947854
+SHUFFLE	COMPRESS_BYTE_COUNT	294985
+SHUFFLE	COPY_MAP_DATA	84999000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1011851
+SHUFFLE	COMPRESS_BYTE_COUNT	284473
+SHUFFLE	COPY_MAP_DATA	16076000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	972377
+SHUFFLE	COMPRESS_BYTE_COUNT	297233
+SHUFFLE	COPY_MAP_DATA	40342000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	944580
+SHUFFLE	COMPRESS_BYTE_COUNT	294613
+SHUFFLE	COPY_MAP_DATA	16846000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1038998
+SHUFFLE	COMPRESS_BYTE_COUNT	297503
+SHUFFLE	COPY_MAP_DATA	82394000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	948429
+SHUFFLE	COMPRESS_BYTE_COUNT	290707
+SHUFFLE	COPY_MAP_DATA	17003000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1009834
+SHUFFLE	COMPRESS_BYTE_COUNT	303221
+SHUFFLE	COPY_MAP_DATA	386094000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	983812
+SHUFFLE	COMPRESS_BYTE_COUNT	300094
+SHUFFLE	COPY_MAP_DATA	105486000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	961380
+SHUFFLE	COMPRESS_BYTE_COUNT	298031
+SHUFFLE	COPY_MAP_DATA	17278000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	950112
+SHUFFLE	COMPRESS_BYTE_COUNT	287293
+SHUFFLE	COPY_MAP_DATA	17117000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	932083
+SHUFFLE	COMPRESS_BYTE_COUNT	288929
+SHUFFLE	COPY_MAP_DATA	18013000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1013563
+SHUFFLE	COMPRESS_BYTE_COUNT	301621
+SHUFFLE	COPY_MAP_DATA	17725000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	990810
+SHUFFLE	COMPRESS_BYTE_COUNT	299462
+SHUFFLE	COPY_MAP_DATA	17530000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1001409
+SHUFFLE	COMPRESS_BYTE_COUNT	305771
+SHUFFLE	COPY_MAP_DATA	18059000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	952276
+SHUFFLE	COMPRESS_BYTE_COUNT	298211
+SHUFFLE	COPY_MAP_DATA	16891000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	993596
+SHUFFLE	COMPRESS_BYTE_COUNT	301571
+SHUFFLE	COPY_MAP_DATA	16039000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	980494
+SHUFFLE	COMPRESS_BYTE_COUNT	302541
+SHUFFLE	COPY_MAP_DATA	96460000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1007824
+SHUFFLE	COMPRESS_BYTE_COUNT	300938
+SHUFFLE	COPY_MAP_DATA	475009000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	908764
+SHUFFLE	COMPRESS_BYTE_COUNT	280434
+SHUFFLE	COPY_MAP_DATA	468419000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	983069
+SHUFFLE	COMPRESS_BYTE_COUNT	296164
+SHUFFLE	COPY_MAP_DATA	111908000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	980573
+SHUFFLE	COMPRESS_BYTE_COUNT	299129
+SHUFFLE	COPY_MAP_DATA	33639000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	975032
+SHUFFLE	COMPRESS_BYTE_COUNT	296974
+SHUFFLE	COPY_MAP_DATA	22074000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	943034
+SHUFFLE	COMPRESS_BYTE_COUNT	289903
+SHUFFLE	COPY_MAP_DATA	15727000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	917453
+SHUFFLE	COMPRESS_BYTE_COUNT	285518
+SHUFFLE	COPY_MAP_DATA	16856000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	962707
+SHUFFLE	COMPRESS_BYTE_COUNT	294629
+SHUFFLE	COPY_MAP_DATA	17385000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	896709
+SHUFFLE	COMPRESS_BYTE_COUNT	280642
+SHUFFLE	COPY_MAP_DATA	30634000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	912884
+SHUFFLE	COMPRESS_BYTE_COUNT	283165
+SHUFFLE	COPY_MAP_DATA	16505000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	880736
+SHUFFLE	COMPRESS_BYTE_COUNT	277947
+SHUFFLE	COPY_MAP_DATA	68016000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	955790
+SHUFFLE	COMPRESS_BYTE_COUNT	294643
+SHUFFLE	COPY_MAP_DATA	594946000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	893592
+SHUFFLE	COMPRESS_BYTE_COUNT	276256
+SHUFFLE	COPY_MAP_DATA	16378000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	931582
+SHUFFLE	COMPRESS_BYTE_COUNT	283931
+SHUFFLE	COPY_MAP_DATA	37443000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	925542
+SHUFFLE	COMPRESS_BYTE_COUNT	286055
+SHUFFLE	COPY_MAP_DATA	16625000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	929911
+SHUFFLE	COMPRESS_BYTE_COUNT	293466
+SHUFFLE	COPY_MAP_DATA	66278000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	950112
+SHUFFLE	COMPRESS_BYTE_COUNT	297146
+SHUFFLE	COPY_MAP_DATA	16880000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	895882
+SHUFFLE	COMPRESS_BYTE_COUNT	283264
+SHUFFLE	COPY_MAP_DATA	102599000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	953606
+SHUFFLE	COMPRESS_BYTE_COUNT	295710
+SHUFFLE	COPY_MAP_DATA	162310000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	976882
+SHUFFLE	COMPRESS_BYTE_COUNT	300679
+SHUFFLE	COPY_MAP_DATA	17791000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	922270
+SHUFFLE	COMPRESS_BYTE_COUNT	292389
+SHUFFLE	COPY_MAP_DATA	27883000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	932952
+SHUFFLE	COMPRESS_BYTE_COUNT	285879
+SHUFFLE	COPY_MAP_DATA	52018000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	927149
+SHUFFLE	COMPRESS_BYTE_COUNT	289203
+SHUFFLE	COPY_MAP_DATA	17784000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	870674
+SHUFFLE	COMPRESS_BYTE_COUNT	272277
+SHUFFLE	COPY_MAP_DATA	339494000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	901960
+SHUFFLE	COMPRESS_BYTE_COUNT	272928
+SHUFFLE	COPY_MAP_DATA	3478533000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	937580
+SHUFFLE	COMPRESS_BYTE_COUNT	287131
+SHUFFLE	COPY_MAP_DATA	4077747000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	897842
+SHUFFLE	COMPRESS_BYTE_COUNT	277577
+SHUFFLE	COPY_MAP_DATA	81035000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	898422
+SHUFFLE	COMPRESS_BYTE_COUNT	283874
+SHUFFLE	COPY_MAP_DATA	17046000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	873251
+SHUFFLE	COMPRESS_BYTE_COUNT	258779
+SHUFFLE	COPY_MAP_DATA	14861000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	956287
+SHUFFLE	COMPRESS_BYTE_COUNT	291859
+SHUFFLE	COPY_MAP_DATA	17878000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	895163
+SHUFFLE	COMPRESS_BYTE_COUNT	277945
+SHUFFLE	COPY_MAP_DATA	486737000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	908337
+SHUFFLE	COMPRESS_BYTE_COUNT	276956
+SHUFFLE	COPY_MAP_DATA	126879000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	930544
+SHUFFLE	COMPRESS_BYTE_COUNT	290168
+SHUFFLE	COPY_MAP_DATA	133449000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	881760
+SHUFFLE	COMPRESS_BYTE_COUNT	257072
+SHUFFLE	COPY_MAP_DATA	14666000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	934471
+SHUFFLE	COMPRESS_BYTE_COUNT	268709
+SHUFFLE	COPY_MAP_DATA	55069000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	878806
+SHUFFLE	COMPRESS_BYTE_COUNT	270695
+SHUFFLE	COPY_MAP_DATA	384307000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	932780
+SHUFFLE	COMPRESS_BYTE_COUNT	282190
+SHUFFLE	COPY_MAP_DATA	837580000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	965395
+SHUFFLE	COMPRESS_BYTE_COUNT	292121
+SHUFFLE	COPY_MAP_DATA	339854000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	865988
+SHUFFLE	COMPRESS_BYTE_COUNT	259739
+SHUFFLE	COPY_MAP_DATA	15990000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	835116
+SHUFFLE	COMPRESS_BYTE_COUNT	266257
+SHUFFLE	COPY_MAP_DATA	15612000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	834901
+SHUFFLE	COMPRESS_BYTE_COUNT	251606
+SHUFFLE	COPY_MAP_DATA	15674000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	966729
+SHUFFLE	COMPRESS_BYTE_COUNT	282499
+SHUFFLE	COPY_MAP_DATA	305984000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	869241
+SHUFFLE	COMPRESS_BYTE_COUNT	260938
+SHUFFLE	COPY_MAP_DATA	15460000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	886779
+SHUFFLE	COMPRESS_BYTE_COUNT	275399
+SHUFFLE	COPY_MAP_DATA	19574000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	825714
+SHUFFLE	COMPRESS_BYTE_COUNT	247103
+SHUFFLE	COPY_MAP_DATA	59417000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	961312
+SHUFFLE	COMPRESS_BYTE_COUNT	278949
+SHUFFLE	COPY_MAP_DATA	16305000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	865910
+SHUFFLE	COMPRESS_BYTE_COUNT	263505
+SHUFFLE	COPY_MAP_DATA	14621000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	837177
+SHUFFLE	COMPRESS_BYTE_COUNT	253013
+SHUFFLE	COPY_MAP_DATA	15929000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1012139
+SHUFFLE	COMPRESS_BYTE_COUNT	297370
+SHUFFLE	COPY_MAP_DATA	23180000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	834443
+SHUFFLE	COMPRESS_BYTE_COUNT	247892
+SHUFFLE	COPY_MAP_DATA	13489000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	859847
+SHUFFLE	COMPRESS_BYTE_COUNT	248014
+SHUFFLE	COPY_MAP_DATA	155012000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	892345
+SHUFFLE	COMPRESS_BYTE_COUNT	267443
+SHUFFLE	COPY_MAP_DATA	16257000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	877060
+SHUFFLE	COMPRESS_BYTE_COUNT	260305
+SHUFFLE	COPY_MAP_DATA	15058000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	809922
+SHUFFLE	COMPRESS_BYTE_COUNT	248434
+SHUFFLE	COPY_MAP_DATA	233572000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	890376
+SHUFFLE	COMPRESS_BYTE_COUNT	265988
+SHUFFLE	COPY_MAP_DATA	184976000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	758159
+SHUFFLE	COMPRESS_BYTE_COUNT	233895
+SHUFFLE	COPY_MAP_DATA	14360000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	786115
+SHUFFLE	COMPRESS_BYTE_COUNT	207767
+SHUFFLE	COPY_MAP_DATA	387307000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	777728
+SHUFFLE	COMPRESS_BYTE_COUNT	245244
+SHUFFLE	COPY_MAP_DATA	15141000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	940959
+SHUFFLE	COMPRESS_BYTE_COUNT	280408
+SHUFFLE	COPY_MAP_DATA	16772000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	827606
+SHUFFLE	COMPRESS_BYTE_COUNT	247992
+SHUFFLE	COPY_MAP_DATA	13880000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	784942
+SHUFFLE	COMPRESS_BYTE_COUNT	236758
+SHUFFLE	COPY_MAP_DATA	1080158000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	752451
+SHUFFLE	COMPRESS_BYTE_COUNT	237117
+SHUFFLE	COPY_MAP_DATA	19838000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	831978
+SHUFFLE	COMPRESS_BYTE_COUNT	254082
+SHUFFLE	COPY_MAP_DATA	16110000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	846209
+SHUFFLE	COMPRESS_BYTE_COUNT	255095
+SHUFFLE	COPY_MAP_DATA	25060000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	799346
+SHUFFLE	COMPRESS_BYTE_COUNT	240795
+SHUFFLE	COPY_MAP_DATA	50702000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	857880
+SHUFFLE	COMPRESS_BYTE_COUNT	251213
+SHUFFLE	COPY_MAP_DATA	15398000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	842308
+SHUFFLE	COMPRESS_BYTE_COUNT	255396
+SHUFFLE	COPY_MAP_DATA	16221000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	808399
+SHUFFLE	COMPRESS_BYTE_COUNT	241443
+SHUFFLE	COPY_MAP_DATA	12912000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	870873
+SHUFFLE	COMPRESS_BYTE_COUNT	248743
+SHUFFLE	COPY_MAP_DATA	15287000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	802343
+SHUFFLE	COMPRESS_BYTE_COUNT	235955
+SHUFFLE	COPY_MAP_DATA	14381000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	821894
+SHUFFLE	COMPRESS_BYTE_COUNT	248341
+SHUFFLE	COPY_MAP_DATA	124177000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	860889
+SHUFFLE	COMPRESS_BYTE_COUNT	244410
+SHUFFLE	COPY_MAP_DATA	15248000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	826644
+SHUFFLE	COMPRESS_BYTE_COUNT	248693
+SHUFFLE	COPY_MAP_DATA	18610000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	970015
+SHUFFLE	COMPRESS_BYTE_COUNT	283945
+SHUFFLE	COPY_MAP_DATA	31689000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	846693
+SHUFFLE	COMPRESS_BYTE_COUNT	259813
+SHUFFLE	COPY_MAP_DATA	13962000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	853854
+SHUFFLE	COMPRESS_BYTE_COUNT	260676
+SHUFFLE	COPY_MAP_DATA	402020000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	847356
+SHUFFLE	COMPRESS_BYTE_COUNT	229995
+SHUFFLE	COPY_MAP_DATA	13881000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	820472
+SHUFFLE	COMPRESS_BYTE_COUNT	248609
+SHUFFLE	COPY_MAP_DATA	63565000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1218071
+SHUFFLE	COMPRESS_BYTE_COUNT	374207
+SHUFFLE	COPY_MAP_DATA	19527000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	798342
+SHUFFLE	COMPRESS_BYTE_COUNT	238483
+SHUFFLE	COPY_MAP_DATA	19805000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	817111
+SHUFFLE	COMPRESS_BYTE_COUNT	242487
+SHUFFLE	COPY_MAP_DATA	12834000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	844135
+SHUFFLE	COMPRESS_BYTE_COUNT	255178
+SHUFFLE	COPY_MAP_DATA	14949000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	782962
+SHUFFLE	COMPRESS_BYTE_COUNT	239794
+SHUFFLE	COPY_MAP_DATA	82586000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	729268
+SHUFFLE	COMPRESS_BYTE_COUNT	226340
+SHUFFLE	COPY_MAP_DATA	260529000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	810498
+SHUFFLE	COMPRESS_BYTE_COUNT	245432
+SHUFFLE	COPY_MAP_DATA	13959000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	762502
+SHUFFLE	COMPRESS_BYTE_COUNT	233749
+SHUFFLE	COPY_MAP_DATA	47722000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	909134
+SHUFFLE	COMPRESS_BYTE_COUNT	266842
+SHUFFLE	COPY_MAP_DATA	137404000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	803756
+SHUFFLE	COMPRESS_BYTE_COUNT	238287
+SHUFFLE	COPY_MAP_DATA	12835000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	864210
+SHUFFLE	COMPRESS_BYTE_COUNT	266741
+SHUFFLE	COPY_MAP_DATA	81202000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	844330
+SHUFFLE	COMPRESS_BYTE_COUNT	246954
+SHUFFLE	COPY_MAP_DATA	15392000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	970124
+SHUFFLE	COMPRESS_BYTE_COUNT	285977
+SHUFFLE	COPY_MAP_DATA	3244670000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	775313
+SHUFFLE	COMPRESS_BYTE_COUNT	233511
+SHUFFLE	COPY_MAP_DATA	12870000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	764832
+SHUFFLE	COMPRESS_BYTE_COUNT	226150
+SHUFFLE	COPY_MAP_DATA	32992000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	786169
+SHUFFLE	COMPRESS_BYTE_COUNT	241799
+SHUFFLE	COPY_MAP_DATA	15572000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	784693
+SHUFFLE	COMPRESS_BYTE_COUNT	241130
+SHUFFLE	COPY_MAP_DATA	1759175000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	770844
+SHUFFLE	COMPRESS_BYTE_COUNT	237380
+SHUFFLE	COPY_MAP_DATA	45546000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	818194
+SHUFFLE	COMPRESS_BYTE_COUNT	242290
+SHUFFLE	COPY_MAP_DATA	44331000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	769275
+SHUFFLE	COMPRESS_BYTE_COUNT	234799
+SHUFFLE	COPY_MAP_DATA	14665000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	752831
+SHUFFLE	COMPRESS_BYTE_COUNT	223506
+SHUFFLE	COPY_MAP_DATA	15053000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	864499
+SHUFFLE	COMPRESS_BYTE_COUNT	259529
+SHUFFLE	COPY_MAP_DATA	15999000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1065227
+SHUFFLE	COMPRESS_BYTE_COUNT	342112
+SHUFFLE	COPY_MAP_DATA	19139000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	829589
+SHUFFLE	COMPRESS_BYTE_COUNT	250136
+SHUFFLE	COPY_MAP_DATA	17272000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	810401
+SHUFFLE	COMPRESS_BYTE_COUNT	236450
+SHUFFLE	COPY_MAP_DATA	44502000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	755486
+SHUFFLE	COMPRESS_BYTE_COUNT	228176
+SHUFFLE	COPY_MAP_DATA	13985000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	829198
+SHUFFLE	COMPRESS_BYTE_COUNT	244152
+SHUFFLE	COPY_MAP_DATA	14906000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	748069
+SHUFFLE	COMPRESS_BYTE_COUNT	229494
+SHUFFLE	COPY_MAP_DATA	14044000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	728223
+SHUFFLE	COMPRESS_BYTE_COUNT	223642
+SHUFFLE	COPY_MAP_DATA	14570000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	834368
+SHUFFLE	COMPRESS_BYTE_COUNT	257113
+SHUFFLE	COPY_MAP_DATA	117338000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	773026
+SHUFFLE	COMPRESS_BYTE_COUNT	234413
+SHUFFLE	COPY_MAP_DATA	16073000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	804012
+SHUFFLE	COMPRESS_BYTE_COUNT	231790
+SHUFFLE	COPY_MAP_DATA	2584662000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	851369
+SHUFFLE	COMPRESS_BYTE_COUNT	258182
+SHUFFLE	COPY_MAP_DATA	15567000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	863071
+SHUFFLE	COMPRESS_BYTE_COUNT	260300
+SHUFFLE	COPY_MAP_DATA	116908000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	708750
+SHUFFLE	COMPRESS_BYTE_COUNT	226781
+SHUFFLE	COPY_MAP_DATA	269244000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	894321
+SHUFFLE	COMPRESS_BYTE_COUNT	258585
+SHUFFLE	COPY_MAP_DATA	15724000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	754941
+SHUFFLE	COMPRESS_BYTE_COUNT	229593
+SHUFFLE	COPY_MAP_DATA	13166000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	813350
+SHUFFLE	COMPRESS_BYTE_COUNT	249212
+SHUFFLE	COPY_MAP_DATA	15522000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	854034
+SHUFFLE	COMPRESS_BYTE_COUNT	248319
+SHUFFLE	COPY_MAP_DATA	87435000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	896944
+SHUFFLE	COMPRESS_BYTE_COUNT	260213
+SHUFFLE	COPY_MAP_DATA	14785000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	854091
+SHUFFLE	COMPRESS_BYTE_COUNT	240816
+SHUFFLE	COPY_MAP_DATA	23449000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	927181
+SHUFFLE	COMPRESS_BYTE_COUNT	270835
+SHUFFLE	COPY_MAP_DATA	190822000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	809498
+SHUFFLE	COMPRESS_BYTE_COUNT	242437
+SHUFFLE	COPY_MAP_DATA	14408000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	855339
+SHUFFLE	COMPRESS_BYTE_COUNT	251558
+SHUFFLE	COPY_MAP_DATA	15078000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	930999
+SHUFFLE	COMPRESS_BYTE_COUNT	254415
+SHUFFLE	COPY_MAP_DATA	9683844000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	765712
+SHUFFLE	COMPRESS_BYTE_COUNT	235788
+SHUFFLE	COPY_MAP_DATA	79698000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	870563
+SHUFFLE	COMPRESS_BYTE_COUNT	262325
+SHUFFLE	COPY_MAP_DATA	159782000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	990916
+SHUFFLE	COMPRESS_BYTE_COUNT	308088
+SHUFFLE	COPY_MAP_DATA	3633715000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	754565
+SHUFFLE	COMPRESS_BYTE_COUNT	232736
+SHUFFLE	COPY_MAP_DATA	109290000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	779253
+SHUFFLE	COMPRESS_BYTE_COUNT	232744
+SHUFFLE	COPY_MAP_DATA	94712000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	746632
+SHUFFLE	COMPRESS_BYTE_COUNT	220915
+SHUFFLE	COPY_MAP_DATA	120806000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	945188
+SHUFFLE	COMPRESS_BYTE_COUNT	285089
+SHUFFLE	COPY_MAP_DATA	17889000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	828181
+SHUFFLE	COMPRESS_BYTE_COUNT	253859
+SHUFFLE	COPY_MAP_DATA	15368000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	907707
+SHUFFLE	COMPRESS_BYTE_COUNT	258734
+SHUFFLE	COPY_MAP_DATA	16809000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	708750
+SHUFFLE	COMPRESS_BYTE_COUNT	226781
+SHUFFLE	COPY_MAP_DATA	472283000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	746441
+SHUFFLE	COMPRESS_BYTE_COUNT	234825
+SHUFFLE	COPY_MAP_DATA	24231000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	985613
+SHUFFLE	COMPRESS_BYTE_COUNT	272900
+SHUFFLE	COPY_MAP_DATA	41645000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	764613
+SHUFFLE	COMPRESS_BYTE_COUNT	224052
+SHUFFLE	COPY_MAP_DATA	13229000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	707967
+SHUFFLE	COMPRESS_BYTE_COUNT	209671
+SHUFFLE	COPY_MAP_DATA	125579000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	693988
+SHUFFLE	COMPRESS_BYTE_COUNT	178354
+SHUFFLE	COPY_MAP_DATA	11644000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	812029
+SHUFFLE	COMPRESS_BYTE_COUNT	245558
+SHUFFLE	COPY_MAP_DATA	13437000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	796007
+SHUFFLE	COMPRESS_BYTE_COUNT	237510
+SHUFFLE	COPY_MAP_DATA	13460000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	746461
+SHUFFLE	COMPRESS_BYTE_COUNT	229907
+SHUFFLE	COPY_MAP_DATA	40793000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	846575
+SHUFFLE	COMPRESS_BYTE_COUNT	230631
+SHUFFLE	COPY_MAP_DATA	422519000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	823438
+SHUFFLE	COMPRESS_BYTE_COUNT	145255
+SHUFFLE	COPY_MAP_DATA	34437000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	771483
+SHUFFLE	COMPRESS_BYTE_COUNT	227842
+SHUFFLE	COPY_MAP_DATA	14528000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	827187
+SHUFFLE	COMPRESS_BYTE_COUNT	241049
+SHUFFLE	COPY_MAP_DATA	13865000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	795931
+SHUFFLE	COMPRESS_BYTE_COUNT	247960
+SHUFFLE	COPY_MAP_DATA	15176000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	871257
+SHUFFLE	COMPRESS_BYTE_COUNT	285718
+SHUFFLE	COPY_MAP_DATA	15588000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	644044
+SHUFFLE	COMPRESS_BYTE_COUNT	203384
+SHUFFLE	COPY_MAP_DATA	46033000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	952824
+SHUFFLE	COMPRESS_BYTE_COUNT	312186
+SHUFFLE	COPY_MAP_DATA	17405000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	789207
+SHUFFLE	COMPRESS_BYTE_COUNT	232391
+SHUFFLE	COPY_MAP_DATA	15015000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	763960
+SHUFFLE	COMPRESS_BYTE_COUNT	247091
+SHUFFLE	COPY_MAP_DATA	13685000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	259696803000
+MERGE	READ_WRITE	258955211000
+MERGE	READ_WRITE_COUNT	3
+MERGE	COMBINE	0
+MERGE	WRITE	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	12183685000
+SORT	READ_WRITE	12025697000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	202459952
+REDUCE	SETUP	402000
+REDUCE	SETUP_MEM	202459952
+REDUCE	CLEANUP	42000
+REDUCE	CLEANUP_MEM	265250848
+REDUCE	TOTAL_RUN	120006829000
+REDUCE	READ	9359109000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	104274984000
+REDUCE	WRITE	45290289000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	73230088
+REDUCE	VALUE_BYTE_COUNT	66211102
+REDUCE	REDUCE_MEM	265250848
+REDUCE	WRITE	8935000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	768507704000
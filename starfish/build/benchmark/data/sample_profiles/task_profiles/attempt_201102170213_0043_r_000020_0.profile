@@ -0,0 +1,1333 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1918796
+SHUFFLE	COMPRESS_BYTE_COUNT	561914
+SHUFFLE	COPY_MAP_DATA	2072769000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1870258
+SHUFFLE	COMPRESS_BYTE_COUNT	479327
+SHUFFLE	COPY_MAP_DATA	44333000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1875326
+SHUFFLE	COMPRESS_BYTE_COUNT	524972
+SHUFFLE	COPY_MAP_DATA	74167000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1943820
+SHUFFLE	COMPRESS_BYTE_COUNT	576552
+SHUFFLE	COPY_MAP_DATA	36635000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1944225
+SHUFFLE	COMPRESS_BYTE_COUNT	558842
+SHUFFLE	COPY_MAP_DATA	42795000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1950137
+SHUFFLE	COMPRESS_BYTE_COUNT	554486
+SHUFFLE	COPY_MAP_DATA	73078000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2016962
+SHUFFLE	COMPRESS_BYTE_COUNT	573376
+SHUFFLE	COPY_MAP_DATA	87337000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2005037
+SHUFFLE	COMPRESS_BYTE_COUNT	578116
+SHUFFLE	COPY_MAP_DATA	34181000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1722821
+SHUFFLE	COMPRESS_BYTE_COUNT	475796
+SHUFFLE	COPY_MAP_DATA	51871000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1789407
+SHUFFLE	COMPRESS_BYTE_COUNT	539178
+SHUFFLE	COPY_MAP_DATA	34630000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1931905
+SHUFFLE	COMPRESS_BYTE_COUNT	560672
+SHUFFLE	COPY_MAP_DATA	42084000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1929591
+SHUFFLE	COMPRESS_BYTE_COUNT	553843
+SHUFFLE	COPY_MAP_DATA	37676000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1905494
+SHUFFLE	COMPRESS_BYTE_COUNT	563350
+SHUFFLE	COPY_MAP_DATA	40766000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2065784
+SHUFFLE	COMPRESS_BYTE_COUNT	549116
+SHUFFLE	COPY_MAP_DATA	39790000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2058414
+SHUFFLE	COMPRESS_BYTE_COUNT	576136
+SHUFFLE	COPY_MAP_DATA	124622000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1999911
+SHUFFLE	COMPRESS_BYTE_COUNT	551627
+SHUFFLE	COPY_MAP_DATA	33133000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1979462
+SHUFFLE	COMPRESS_BYTE_COUNT	562127
+SHUFFLE	COPY_MAP_DATA	30463000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2000374
+SHUFFLE	COMPRESS_BYTE_COUNT	550799
+SHUFFLE	COPY_MAP_DATA	31939000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1972323
+SHUFFLE	COMPRESS_BYTE_COUNT	569380
+SHUFFLE	COPY_MAP_DATA	31101000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1906754
+SHUFFLE	COMPRESS_BYTE_COUNT	560824
+SHUFFLE	COPY_MAP_DATA	35067000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1801342
+SHUFFLE	COMPRESS_BYTE_COUNT	489778
+SHUFFLE	COPY_MAP_DATA	29092000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1933298
+SHUFFLE	COMPRESS_BYTE_COUNT	564366
+SHUFFLE	COPY_MAP_DATA	34026000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2113141
+SHUFFLE	COMPRESS_BYTE_COUNT	570585
+SHUFFLE	COPY_MAP_DATA	32797000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1920840
+SHUFFLE	COMPRESS_BYTE_COUNT	564004
+SHUFFLE	COPY_MAP_DATA	51670000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1863276
+SHUFFLE	COMPRESS_BYTE_COUNT	554059
+SHUFFLE	COPY_MAP_DATA	28554000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1939804
+SHUFFLE	COMPRESS_BYTE_COUNT	574019
+SHUFFLE	COPY_MAP_DATA	47997000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1906065
+SHUFFLE	COMPRESS_BYTE_COUNT	566908
+SHUFFLE	COPY_MAP_DATA	60333000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2048880
+SHUFFLE	COMPRESS_BYTE_COUNT	554036
+SHUFFLE	COPY_MAP_DATA	64208000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2046741
+SHUFFLE	COMPRESS_BYTE_COUNT	555201
+SHUFFLE	COPY_MAP_DATA	30016000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2131023
+SHUFFLE	COMPRESS_BYTE_COUNT	583183
+SHUFFLE	COPY_MAP_DATA	281151000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1864171
+SHUFFLE	COMPRESS_BYTE_COUNT	557914
+SHUFFLE	COPY_MAP_DATA	31288000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1835227
+SHUFFLE	COMPRESS_BYTE_COUNT	536569
+SHUFFLE	COPY_MAP_DATA	111181000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1742598
+SHUFFLE	COMPRESS_BYTE_COUNT	522049
+SHUFFLE	COPY_MAP_DATA	123731000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1871297
+SHUFFLE	COMPRESS_BYTE_COUNT	554743
+SHUFFLE	COPY_MAP_DATA	145781000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1830461
+SHUFFLE	COMPRESS_BYTE_COUNT	541510
+SHUFFLE	COPY_MAP_DATA	28450000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1861994
+SHUFFLE	COMPRESS_BYTE_COUNT	548118
+SHUFFLE	COPY_MAP_DATA	28819000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1922172
+SHUFFLE	COMPRESS_BYTE_COUNT	564838
+SHUFFLE	COPY_MAP_DATA	30921000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1580950
+SHUFFLE	COMPRESS_BYTE_COUNT	461299
+SHUFFLE	COPY_MAP_DATA	40816000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1801074
+SHUFFLE	COMPRESS_BYTE_COUNT	537907
+SHUFFLE	COPY_MAP_DATA	29199000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1989192
+SHUFFLE	COMPRESS_BYTE_COUNT	571431
+SHUFFLE	COPY_MAP_DATA	110877000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1953262
+SHUFFLE	COMPRESS_BYTE_COUNT	565712
+SHUFFLE	COPY_MAP_DATA	155489000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1896922
+SHUFFLE	COMPRESS_BYTE_COUNT	541255
+SHUFFLE	COPY_MAP_DATA	55622000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1861220
+SHUFFLE	COMPRESS_BYTE_COUNT	550142
+SHUFFLE	COPY_MAP_DATA	176057000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1709958
+SHUFFLE	COMPRESS_BYTE_COUNT	527807
+SHUFFLE	COPY_MAP_DATA	32237000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1906517
+SHUFFLE	COMPRESS_BYTE_COUNT	556271
+SHUFFLE	COPY_MAP_DATA	281144000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1599579
+SHUFFLE	COMPRESS_BYTE_COUNT	420417
+SHUFFLE	COPY_MAP_DATA	32113000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1836127
+SHUFFLE	COMPRESS_BYTE_COUNT	550690
+SHUFFLE	COPY_MAP_DATA	108323000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1862240
+SHUFFLE	COMPRESS_BYTE_COUNT	551741
+SHUFFLE	COPY_MAP_DATA	2680691000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1602312
+SHUFFLE	COMPRESS_BYTE_COUNT	482106
+SHUFFLE	COPY_MAP_DATA	247975000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1589788
+SHUFFLE	COMPRESS_BYTE_COUNT	472529
+SHUFFLE	COPY_MAP_DATA	98018000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1638501
+SHUFFLE	COMPRESS_BYTE_COUNT	477396
+SHUFFLE	COPY_MAP_DATA	260044000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1836883
+SHUFFLE	COMPRESS_BYTE_COUNT	528882
+SHUFFLE	COPY_MAP_DATA	646635000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1760145
+SHUFFLE	COMPRESS_BYTE_COUNT	504749
+SHUFFLE	COPY_MAP_DATA	190252000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1741146
+SHUFFLE	COMPRESS_BYTE_COUNT	502008
+SHUFFLE	COPY_MAP_DATA	81931000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1832138
+SHUFFLE	COMPRESS_BYTE_COUNT	532358
+SHUFFLE	COPY_MAP_DATA	84118000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1822337
+SHUFFLE	COMPRESS_BYTE_COUNT	548283
+SHUFFLE	COPY_MAP_DATA	28429000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1875766
+SHUFFLE	COMPRESS_BYTE_COUNT	541245
+SHUFFLE	COPY_MAP_DATA	28222000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1777005
+SHUFFLE	COMPRESS_BYTE_COUNT	529530
+SHUFFLE	COPY_MAP_DATA	27644000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1912395
+SHUFFLE	COMPRESS_BYTE_COUNT	554851
+SHUFFLE	COPY_MAP_DATA	85926000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1734210
+SHUFFLE	COMPRESS_BYTE_COUNT	523872
+SHUFFLE	COPY_MAP_DATA	62273000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1604117
+SHUFFLE	COMPRESS_BYTE_COUNT	473328
+SHUFFLE	COPY_MAP_DATA	1397731000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1602417
+SHUFFLE	COMPRESS_BYTE_COUNT	482105
+SHUFFLE	COPY_MAP_DATA	4785837000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1655893
+SHUFFLE	COMPRESS_BYTE_COUNT	478869
+SHUFFLE	COPY_MAP_DATA	25417000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1638040
+SHUFFLE	COMPRESS_BYTE_COUNT	481267
+SHUFFLE	COPY_MAP_DATA	33125000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1737048
+SHUFFLE	COMPRESS_BYTE_COUNT	471261
+SHUFFLE	COPY_MAP_DATA	46783000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1871044
+SHUFFLE	COMPRESS_BYTE_COUNT	535768
+SHUFFLE	COPY_MAP_DATA	27792000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1539555
+SHUFFLE	COMPRESS_BYTE_COUNT	446363
+SHUFFLE	COPY_MAP_DATA	23204000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1543432
+SHUFFLE	COMPRESS_BYTE_COUNT	445221
+SHUFFLE	COPY_MAP_DATA	29675000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1634410
+SHUFFLE	COMPRESS_BYTE_COUNT	459894
+SHUFFLE	COPY_MAP_DATA	87513000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1671530
+SHUFFLE	COMPRESS_BYTE_COUNT	483691
+SHUFFLE	COPY_MAP_DATA	45745000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1552115
+SHUFFLE	COMPRESS_BYTE_COUNT	458444
+SHUFFLE	COPY_MAP_DATA	1088859000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1869585
+SHUFFLE	COMPRESS_BYTE_COUNT	486265
+SHUFFLE	COPY_MAP_DATA	113178000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1748035
+SHUFFLE	COMPRESS_BYTE_COUNT	479043
+SHUFFLE	COPY_MAP_DATA	195501000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1628737
+SHUFFLE	COMPRESS_BYTE_COUNT	477174
+SHUFFLE	COPY_MAP_DATA	65863000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1615101
+SHUFFLE	COMPRESS_BYTE_COUNT	474808
+SHUFFLE	COPY_MAP_DATA	159709000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1876900
+SHUFFLE	COMPRESS_BYTE_COUNT	577211
+SHUFFLE	COPY_MAP_DATA	176988000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1691162
+SHUFFLE	COMPRESS_BYTE_COUNT	478619
+SHUFFLE	COPY_MAP_DATA	28209000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1648520
+SHUFFLE	COMPRESS_BYTE_COUNT	475251
+SHUFFLE	COPY_MAP_DATA	1564084000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1616255
+SHUFFLE	COMPRESS_BYTE_COUNT	457804
+SHUFFLE	COPY_MAP_DATA	333863000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1624029
+SHUFFLE	COMPRESS_BYTE_COUNT	476423
+SHUFFLE	COPY_MAP_DATA	2138001000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1834687
+SHUFFLE	COMPRESS_BYTE_COUNT	572957
+SHUFFLE	COPY_MAP_DATA	649314000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1781175
+SHUFFLE	COMPRESS_BYTE_COUNT	519915
+SHUFFLE	COPY_MAP_DATA	532529000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1629507
+SHUFFLE	COMPRESS_BYTE_COUNT	480997
+SHUFFLE	COPY_MAP_DATA	29257000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1810047
+SHUFFLE	COMPRESS_BYTE_COUNT	493093
+SHUFFLE	COPY_MAP_DATA	950182000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1764130
+SHUFFLE	COMPRESS_BYTE_COUNT	523943
+SHUFFLE	COPY_MAP_DATA	433770000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1721058
+SHUFFLE	COMPRESS_BYTE_COUNT	534455
+SHUFFLE	COPY_MAP_DATA	54402000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1615467
+SHUFFLE	COMPRESS_BYTE_COUNT	472954
+SHUFFLE	COPY_MAP_DATA	577335000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	873937
+SHUFFLE	COMPRESS_BYTE_COUNT	241021
+SHUFFLE	COPY_MAP_DATA	14889000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1477090
+SHUFFLE	COMPRESS_BYTE_COUNT	438135
+SHUFFLE	COPY_MAP_DATA	23124000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1471509
+SHUFFLE	COMPRESS_BYTE_COUNT	437023
+SHUFFLE	COPY_MAP_DATA	23701000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1630606
+SHUFFLE	COMPRESS_BYTE_COUNT	463761
+SHUFFLE	COPY_MAP_DATA	41693000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	929082
+SHUFFLE	COMPRESS_BYTE_COUNT	268862
+SHUFFLE	COPY_MAP_DATA	2730349000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	996323
+SHUFFLE	COMPRESS_BYTE_COUNT	268431
+SHUFFLE	COPY_MAP_DATA	288072000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	872262
+SHUFFLE	COMPRESS_BYTE_COUNT	250237
+SHUFFLE	COPY_MAP_DATA	156842000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1031981
+SHUFFLE	COMPRESS_BYTE_COUNT	297775
+SHUFFLE	COPY_MAP_DATA	18706000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	834521
+SHUFFLE	COMPRESS_BYTE_COUNT	243515
+SHUFFLE	COPY_MAP_DATA	14558000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1662682
+SHUFFLE	COMPRESS_BYTE_COUNT	472378
+SHUFFLE	COPY_MAP_DATA	25611000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1469114
+SHUFFLE	COMPRESS_BYTE_COUNT	444202
+SHUFFLE	COPY_MAP_DATA	87224000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	888302
+SHUFFLE	COMPRESS_BYTE_COUNT	248752
+SHUFFLE	COPY_MAP_DATA	16725000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1415493
+SHUFFLE	COMPRESS_BYTE_COUNT	422917
+SHUFFLE	COPY_MAP_DATA	22632000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1775232
+SHUFFLE	COMPRESS_BYTE_COUNT	484949
+SHUFFLE	COPY_MAP_DATA	1716516000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1656776
+SHUFFLE	COMPRESS_BYTE_COUNT	477522
+SHUFFLE	COPY_MAP_DATA	220643000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1524670
+SHUFFLE	COMPRESS_BYTE_COUNT	450318
+SHUFFLE	COPY_MAP_DATA	22971000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1632925
+SHUFFLE	COMPRESS_BYTE_COUNT	481963
+SHUFFLE	COPY_MAP_DATA	65911000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1047190
+SHUFFLE	COMPRESS_BYTE_COUNT	295234
+SHUFFLE	COPY_MAP_DATA	224901000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1438401
+SHUFFLE	COMPRESS_BYTE_COUNT	423569
+SHUFFLE	COPY_MAP_DATA	22617000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1556117
+SHUFFLE	COMPRESS_BYTE_COUNT	445496
+SHUFFLE	COPY_MAP_DATA	26416000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	979126
+SHUFFLE	COMPRESS_BYTE_COUNT	289524
+SHUFFLE	COPY_MAP_DATA	259573000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1740518
+SHUFFLE	COMPRESS_BYTE_COUNT	534522
+SHUFFLE	COPY_MAP_DATA	247919000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1790329
+SHUFFLE	COMPRESS_BYTE_COUNT	520408
+SHUFFLE	COPY_MAP_DATA	26052000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1070319
+SHUFFLE	COMPRESS_BYTE_COUNT	295077
+SHUFFLE	COPY_MAP_DATA	22516000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	995467
+SHUFFLE	COMPRESS_BYTE_COUNT	286100
+SHUFFLE	COPY_MAP_DATA	89027000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1222670
+SHUFFLE	COMPRESS_BYTE_COUNT	303166
+SHUFFLE	COPY_MAP_DATA	1247136000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1690416
+SHUFFLE	COMPRESS_BYTE_COUNT	480709
+SHUFFLE	COPY_MAP_DATA	25037000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1659674
+SHUFFLE	COMPRESS_BYTE_COUNT	479166
+SHUFFLE	COPY_MAP_DATA	24834000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1574880
+SHUFFLE	COMPRESS_BYTE_COUNT	486073
+SHUFFLE	COPY_MAP_DATA	1058328000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	968395
+SHUFFLE	COMPRESS_BYTE_COUNT	285221
+SHUFFLE	COPY_MAP_DATA	16129000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1831214
+SHUFFLE	COMPRESS_BYTE_COUNT	528507
+SHUFFLE	COPY_MAP_DATA	27115000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1001198
+SHUFFLE	COMPRESS_BYTE_COUNT	290570
+SHUFFLE	COPY_MAP_DATA	526761000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1548177
+SHUFFLE	COMPRESS_BYTE_COUNT	459332
+SHUFFLE	COPY_MAP_DATA	111523000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	991318
+SHUFFLE	COMPRESS_BYTE_COUNT	290517
+SHUFFLE	COPY_MAP_DATA	1159225000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1666118
+SHUFFLE	COMPRESS_BYTE_COUNT	482327
+SHUFFLE	COPY_MAP_DATA	1837703000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	948273
+SHUFFLE	COMPRESS_BYTE_COUNT	293652
+SHUFFLE	COPY_MAP_DATA	845205000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1017095
+SHUFFLE	COMPRESS_BYTE_COUNT	301837
+SHUFFLE	COPY_MAP_DATA	35748000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	996385
+SHUFFLE	COMPRESS_BYTE_COUNT	290252
+SHUFFLE	COPY_MAP_DATA	16869000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	993988
+SHUFFLE	COMPRESS_BYTE_COUNT	295988
+SHUFFLE	COPY_MAP_DATA	17944000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	958340
+SHUFFLE	COMPRESS_BYTE_COUNT	288361
+SHUFFLE	COPY_MAP_DATA	90718000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	896202
+SHUFFLE	COMPRESS_BYTE_COUNT	261404
+SHUFFLE	COPY_MAP_DATA	175038000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1014903
+SHUFFLE	COMPRESS_BYTE_COUNT	302276
+SHUFFLE	COPY_MAP_DATA	67083000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	999553
+SHUFFLE	COMPRESS_BYTE_COUNT	291875
+SHUFFLE	COPY_MAP_DATA	1599453000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	985887
+SHUFFLE	COMPRESS_BYTE_COUNT	295027
+SHUFFLE	COPY_MAP_DATA	57877000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	985488
+SHUFFLE	COMPRESS_BYTE_COUNT	297445
+SHUFFLE	COPY_MAP_DATA	35354000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	972417
+SHUFFLE	COMPRESS_BYTE_COUNT	294944
+SHUFFLE	COPY_MAP_DATA	15755000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	972949
+SHUFFLE	COMPRESS_BYTE_COUNT	289701
+SHUFFLE	COPY_MAP_DATA	133130000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1022976
+SHUFFLE	COMPRESS_BYTE_COUNT	305529
+SHUFFLE	COPY_MAP_DATA	4770035000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	998715
+SHUFFLE	COMPRESS_BYTE_COUNT	294049
+SHUFFLE	COPY_MAP_DATA	97939000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1104103
+SHUFFLE	COMPRESS_BYTE_COUNT	299900
+SHUFFLE	COPY_MAP_DATA	1039902000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1009040
+SHUFFLE	COMPRESS_BYTE_COUNT	296719
+SHUFFLE	COPY_MAP_DATA	15568000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	983634
+SHUFFLE	COMPRESS_BYTE_COUNT	292154
+SHUFFLE	COPY_MAP_DATA	16212000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1067098
+SHUFFLE	COMPRESS_BYTE_COUNT	314602
+SHUFFLE	COPY_MAP_DATA	112871000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	943619
+SHUFFLE	COMPRESS_BYTE_COUNT	290702
+SHUFFLE	COPY_MAP_DATA	36321000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	966256
+SHUFFLE	COMPRESS_BYTE_COUNT	293409
+SHUFFLE	COPY_MAP_DATA	16884000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1113930
+SHUFFLE	COMPRESS_BYTE_COUNT	310877
+SHUFFLE	COPY_MAP_DATA	109907000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	999908
+SHUFFLE	COMPRESS_BYTE_COUNT	301925
+SHUFFLE	COPY_MAP_DATA	603307000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	984374
+SHUFFLE	COMPRESS_BYTE_COUNT	298557
+SHUFFLE	COPY_MAP_DATA	18064000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	990136
+SHUFFLE	COMPRESS_BYTE_COUNT	302480
+SHUFFLE	COPY_MAP_DATA	192612000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	949392
+SHUFFLE	COMPRESS_BYTE_COUNT	281410
+SHUFFLE	COPY_MAP_DATA	17363000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	936468
+SHUFFLE	COMPRESS_BYTE_COUNT	291139
+SHUFFLE	COPY_MAP_DATA	16937000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	961923
+SHUFFLE	COMPRESS_BYTE_COUNT	295268
+SHUFFLE	COPY_MAP_DATA	88028000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	967463
+SHUFFLE	COMPRESS_BYTE_COUNT	294058
+SHUFFLE	COPY_MAP_DATA	42477000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	977566
+SHUFFLE	COMPRESS_BYTE_COUNT	307261
+SHUFFLE	COPY_MAP_DATA	16948000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	971345
+SHUFFLE	COMPRESS_BYTE_COUNT	291027
+SHUFFLE	COPY_MAP_DATA	175057000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	977190
+SHUFFLE	COMPRESS_BYTE_COUNT	291714
+SHUFFLE	COPY_MAP_DATA	231682000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	958248
+SHUFFLE	COMPRESS_BYTE_COUNT	286673
+SHUFFLE	COPY_MAP_DATA	17405000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	994939
+SHUFFLE	COMPRESS_BYTE_COUNT	299495
+SHUFFLE	COPY_MAP_DATA	31574000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	929758
+SHUFFLE	COMPRESS_BYTE_COUNT	290558
+SHUFFLE	COPY_MAP_DATA	16695000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	998475
+SHUFFLE	COMPRESS_BYTE_COUNT	303509
+SHUFFLE	COPY_MAP_DATA	345778000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1012811
+SHUFFLE	COMPRESS_BYTE_COUNT	271089
+SHUFFLE	COPY_MAP_DATA	16944000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	936361
+SHUFFLE	COMPRESS_BYTE_COUNT	293879
+SHUFFLE	COPY_MAP_DATA	70703000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	935443
+SHUFFLE	COMPRESS_BYTE_COUNT	287969
+SHUFFLE	COPY_MAP_DATA	258086000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1052497
+SHUFFLE	COMPRESS_BYTE_COUNT	288346
+SHUFFLE	COPY_MAP_DATA	51711000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	954348
+SHUFFLE	COMPRESS_BYTE_COUNT	296457
+SHUFFLE	COPY_MAP_DATA	143740000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	944144
+SHUFFLE	COMPRESS_BYTE_COUNT	298095
+SHUFFLE	COPY_MAP_DATA	17370000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	975840
+SHUFFLE	COMPRESS_BYTE_COUNT	288763
+SHUFFLE	COPY_MAP_DATA	17080000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	942392
+SHUFFLE	COMPRESS_BYTE_COUNT	283295
+SHUFFLE	COPY_MAP_DATA	62439000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	937694
+SHUFFLE	COMPRESS_BYTE_COUNT	292349
+SHUFFLE	COPY_MAP_DATA	61468000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1003706
+SHUFFLE	COMPRESS_BYTE_COUNT	299368
+SHUFFLE	COPY_MAP_DATA	16621000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1003624
+SHUFFLE	COMPRESS_BYTE_COUNT	298578
+SHUFFLE	COPY_MAP_DATA	17187000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	923859
+SHUFFLE	COMPRESS_BYTE_COUNT	285888
+SHUFFLE	COPY_MAP_DATA	87436000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	952408
+SHUFFLE	COMPRESS_BYTE_COUNT	287287
+SHUFFLE	COPY_MAP_DATA	208814000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	903586
+SHUFFLE	COMPRESS_BYTE_COUNT	281221
+SHUFFLE	COPY_MAP_DATA	24110000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	984480
+SHUFFLE	COMPRESS_BYTE_COUNT	296280
+SHUFFLE	COPY_MAP_DATA	17523000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	916457
+SHUFFLE	COMPRESS_BYTE_COUNT	285576
+SHUFFLE	COPY_MAP_DATA	85720000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	985801
+SHUFFLE	COMPRESS_BYTE_COUNT	293180
+SHUFFLE	COPY_MAP_DATA	60743000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	914883
+SHUFFLE	COMPRESS_BYTE_COUNT	285066
+SHUFFLE	COPY_MAP_DATA	14749000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	989681
+SHUFFLE	COMPRESS_BYTE_COUNT	297634
+SHUFFLE	COPY_MAP_DATA	17249000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	941331
+SHUFFLE	COMPRESS_BYTE_COUNT	293712
+SHUFFLE	COPY_MAP_DATA	52683000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1000447
+SHUFFLE	COMPRESS_BYTE_COUNT	300307
+SHUFFLE	COPY_MAP_DATA	465704000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	948395
+SHUFFLE	COMPRESS_BYTE_COUNT	291706
+SHUFFLE	COPY_MAP_DATA	20109000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	969135
+SHUFFLE	COMPRESS_BYTE_COUNT	290940
+SHUFFLE	COPY_MAP_DATA	15768000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	963005
+SHUFFLE	COMPRESS_BYTE_COUNT	301527
+SHUFFLE	COPY_MAP_DATA	118241000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	871970
+SHUFFLE	COMPRESS_BYTE_COUNT	274650
+SHUFFLE	COPY_MAP_DATA	17269000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	934227
+SHUFFLE	COMPRESS_BYTE_COUNT	288808
+SHUFFLE	COPY_MAP_DATA	99759000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	934147
+SHUFFLE	COMPRESS_BYTE_COUNT	283305
+SHUFFLE	COPY_MAP_DATA	1777486000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	882017
+SHUFFLE	COMPRESS_BYTE_COUNT	273791
+SHUFFLE	COPY_MAP_DATA	16343000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	906371
+SHUFFLE	COMPRESS_BYTE_COUNT	280776
+SHUFFLE	COPY_MAP_DATA	159279000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	971076
+SHUFFLE	COMPRESS_BYTE_COUNT	291073
+SHUFFLE	COPY_MAP_DATA	130892000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	896236
+SHUFFLE	COMPRESS_BYTE_COUNT	273566
+SHUFFLE	COPY_MAP_DATA	58517000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	954842
+SHUFFLE	COMPRESS_BYTE_COUNT	292565
+SHUFFLE	COPY_MAP_DATA	93053000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	911801
+SHUFFLE	COMPRESS_BYTE_COUNT	281765
+SHUFFLE	COPY_MAP_DATA	16335000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	892837
+SHUFFLE	COMPRESS_BYTE_COUNT	275030
+SHUFFLE	COPY_MAP_DATA	506275000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	928095
+SHUFFLE	COMPRESS_BYTE_COUNT	289829
+SHUFFLE	COPY_MAP_DATA	15834000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	906472
+SHUFFLE	COMPRESS_BYTE_COUNT	289281
+SHUFFLE	COPY_MAP_DATA	15425000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	897414
+SHUFFLE	COMPRESS_BYTE_COUNT	277214
+SHUFFLE	COPY_MAP_DATA	16292000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	954750
+SHUFFLE	COMPRESS_BYTE_COUNT	282283
+SHUFFLE	COPY_MAP_DATA	486835000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	960587
+SHUFFLE	COMPRESS_BYTE_COUNT	297338
+SHUFFLE	COPY_MAP_DATA	3586276000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	933161
+SHUFFLE	COMPRESS_BYTE_COUNT	290603
+SHUFFLE	COPY_MAP_DATA	16729000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	916531
+SHUFFLE	COMPRESS_BYTE_COUNT	287481
+SHUFFLE	COPY_MAP_DATA	16746000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	919165
+SHUFFLE	COMPRESS_BYTE_COUNT	285051
+SHUFFLE	COPY_MAP_DATA	603707000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	861549
+SHUFFLE	COMPRESS_BYTE_COUNT	268581
+SHUFFLE	COPY_MAP_DATA	94310000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	930737
+SHUFFLE	COMPRESS_BYTE_COUNT	275828
+SHUFFLE	COPY_MAP_DATA	16631000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	865206
+SHUFFLE	COMPRESS_BYTE_COUNT	268765
+SHUFFLE	COPY_MAP_DATA	16989000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	868405
+SHUFFLE	COMPRESS_BYTE_COUNT	254961
+SHUFFLE	COPY_MAP_DATA	2433772000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	872570
+SHUFFLE	COMPRESS_BYTE_COUNT	276244
+SHUFFLE	COPY_MAP_DATA	41424000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	824057
+SHUFFLE	COMPRESS_BYTE_COUNT	251266
+SHUFFLE	COPY_MAP_DATA	55603000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	962946
+SHUFFLE	COMPRESS_BYTE_COUNT	295097
+SHUFFLE	COPY_MAP_DATA	973198000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	917439
+SHUFFLE	COMPRESS_BYTE_COUNT	286251
+SHUFFLE	COPY_MAP_DATA	31163000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	980393
+SHUFFLE	COMPRESS_BYTE_COUNT	276365
+SHUFFLE	COPY_MAP_DATA	115047000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	881911
+SHUFFLE	COMPRESS_BYTE_COUNT	273268
+SHUFFLE	COPY_MAP_DATA	173056000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	845186
+SHUFFLE	COMPRESS_BYTE_COUNT	264925
+SHUFFLE	COPY_MAP_DATA	1468781000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	869194
+SHUFFLE	COMPRESS_BYTE_COUNT	258365
+SHUFFLE	COPY_MAP_DATA	14497000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	840792
+SHUFFLE	COMPRESS_BYTE_COUNT	254283
+SHUFFLE	COPY_MAP_DATA	16530000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	921403
+SHUFFLE	COMPRESS_BYTE_COUNT	283865
+SHUFFLE	COPY_MAP_DATA	870415000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	852195
+SHUFFLE	COMPRESS_BYTE_COUNT	270705
+SHUFFLE	COPY_MAP_DATA	360882000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	889178
+SHUFFLE	COMPRESS_BYTE_COUNT	278032
+SHUFFLE	COPY_MAP_DATA	85242000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	809628
+SHUFFLE	COMPRESS_BYTE_COUNT	244927
+SHUFFLE	COPY_MAP_DATA	136900000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	954365
+SHUFFLE	COMPRESS_BYTE_COUNT	277760
+SHUFFLE	COPY_MAP_DATA	332399000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	858322
+SHUFFLE	COMPRESS_BYTE_COUNT	251553
+SHUFFLE	COPY_MAP_DATA	200598000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	814422
+SHUFFLE	COMPRESS_BYTE_COUNT	245606
+SHUFFLE	COPY_MAP_DATA	31815000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	837390
+SHUFFLE	COMPRESS_BYTE_COUNT	266004
+SHUFFLE	COPY_MAP_DATA	16342000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	828414
+SHUFFLE	COMPRESS_BYTE_COUNT	253701
+SHUFFLE	COPY_MAP_DATA	161410000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	824014
+SHUFFLE	COMPRESS_BYTE_COUNT	248839
+SHUFFLE	COPY_MAP_DATA	15095000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	847338
+SHUFFLE	COMPRESS_BYTE_COUNT	262511
+SHUFFLE	COPY_MAP_DATA	15815000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	823501
+SHUFFLE	COMPRESS_BYTE_COUNT	255846
+SHUFFLE	COPY_MAP_DATA	14299000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	982253
+SHUFFLE	COMPRESS_BYTE_COUNT	289767
+SHUFFLE	COPY_MAP_DATA	39748000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	854632
+SHUFFLE	COMPRESS_BYTE_COUNT	258123
+SHUFFLE	COPY_MAP_DATA	16303000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	833763
+SHUFFLE	COMPRESS_BYTE_COUNT	255304
+SHUFFLE	COPY_MAP_DATA	13567000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	837403
+SHUFFLE	COMPRESS_BYTE_COUNT	246166
+SHUFFLE	COPY_MAP_DATA	15488000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	771059
+SHUFFLE	COMPRESS_BYTE_COUNT	240868
+SHUFFLE	COPY_MAP_DATA	1367331000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	891742
+SHUFFLE	COMPRESS_BYTE_COUNT	268666
+SHUFFLE	COPY_MAP_DATA	16059000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	730157
+SHUFFLE	COMPRESS_BYTE_COUNT	200027
+SHUFFLE	COPY_MAP_DATA	1092706000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	765799
+SHUFFLE	COMPRESS_BYTE_COUNT	237548
+SHUFFLE	COPY_MAP_DATA	311231000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	940309
+SHUFFLE	COMPRESS_BYTE_COUNT	280076
+SHUFFLE	COPY_MAP_DATA	819828000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	797837
+SHUFFLE	COMPRESS_BYTE_COUNT	249334
+SHUFFLE	COPY_MAP_DATA	17862000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	767965
+SHUFFLE	COMPRESS_BYTE_COUNT	235042
+SHUFFLE	COPY_MAP_DATA	2080310000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	890593
+SHUFFLE	COMPRESS_BYTE_COUNT	254341
+SHUFFLE	COPY_MAP_DATA	72765000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	716946
+SHUFFLE	COMPRESS_BYTE_COUNT	229061
+SHUFFLE	COPY_MAP_DATA	14765000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	834129
+SHUFFLE	COMPRESS_BYTE_COUNT	254816
+SHUFFLE	COPY_MAP_DATA	16768000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	849439
+SHUFFLE	COMPRESS_BYTE_COUNT	253177
+SHUFFLE	COPY_MAP_DATA	1267677000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	821751
+SHUFFLE	COMPRESS_BYTE_COUNT	248934
+SHUFFLE	COPY_MAP_DATA	15111000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	803412
+SHUFFLE	COMPRESS_BYTE_COUNT	239659
+SHUFFLE	COPY_MAP_DATA	14106000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	797711
+SHUFFLE	COMPRESS_BYTE_COUNT	239625
+SHUFFLE	COPY_MAP_DATA	14120000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	813518
+SHUFFLE	COMPRESS_BYTE_COUNT	249390
+SHUFFLE	COPY_MAP_DATA	13655000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	925141
+SHUFFLE	COMPRESS_BYTE_COUNT	276701
+SHUFFLE	COPY_MAP_DATA	16573000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	775045
+SHUFFLE	COMPRESS_BYTE_COUNT	237273
+SHUFFLE	COPY_MAP_DATA	13735000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	773166
+SHUFFLE	COMPRESS_BYTE_COUNT	235240
+SHUFFLE	COPY_MAP_DATA	49890000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	754976
+SHUFFLE	COMPRESS_BYTE_COUNT	235664
+SHUFFLE	COPY_MAP_DATA	13497000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	835647
+SHUFFLE	COMPRESS_BYTE_COUNT	261018
+SHUFFLE	COPY_MAP_DATA	13854000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	819990
+SHUFFLE	COMPRESS_BYTE_COUNT	230452
+SHUFFLE	COPY_MAP_DATA	154927000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	937068
+SHUFFLE	COMPRESS_BYTE_COUNT	250998
+SHUFFLE	COPY_MAP_DATA	15140000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	856036
+SHUFFLE	COMPRESS_BYTE_COUNT	260748
+SHUFFLE	COPY_MAP_DATA	14469000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	829824
+SHUFFLE	COMPRESS_BYTE_COUNT	252068
+SHUFFLE	COPY_MAP_DATA	15767000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	848884
+SHUFFLE	COMPRESS_BYTE_COUNT	250851
+SHUFFLE	COPY_MAP_DATA	552086000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1159956
+SHUFFLE	COMPRESS_BYTE_COUNT	364566
+SHUFFLE	COPY_MAP_DATA	247283000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	784152
+SHUFFLE	COMPRESS_BYTE_COUNT	239335
+SHUFFLE	COPY_MAP_DATA	576060000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	756027
+SHUFFLE	COMPRESS_BYTE_COUNT	233635
+SHUFFLE	COPY_MAP_DATA	30681000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	875384
+SHUFFLE	COMPRESS_BYTE_COUNT	258900
+SHUFFLE	COPY_MAP_DATA	87859000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	797573
+SHUFFLE	COMPRESS_BYTE_COUNT	243691
+SHUFFLE	COPY_MAP_DATA	14438000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	845266
+SHUFFLE	COMPRESS_BYTE_COUNT	236692
+SHUFFLE	COPY_MAP_DATA	86983000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	785279
+SHUFFLE	COMPRESS_BYTE_COUNT	239273
+SHUFFLE	COPY_MAP_DATA	633484000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	863203
+SHUFFLE	COMPRESS_BYTE_COUNT	259156
+SHUFFLE	COPY_MAP_DATA	220872000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	739244
+SHUFFLE	COMPRESS_BYTE_COUNT	229497
+SHUFFLE	COPY_MAP_DATA	12802000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	799982
+SHUFFLE	COMPRESS_BYTE_COUNT	236710
+SHUFFLE	COPY_MAP_DATA	22548000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	842280
+SHUFFLE	COMPRESS_BYTE_COUNT	245750
+SHUFFLE	COPY_MAP_DATA	2991241000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	864092
+SHUFFLE	COMPRESS_BYTE_COUNT	265696
+SHUFFLE	COPY_MAP_DATA	17428000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	952096
+SHUFFLE	COMPRESS_BYTE_COUNT	282474
+SHUFFLE	COPY_MAP_DATA	1202160000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1056069
+SHUFFLE	COMPRESS_BYTE_COUNT	253082
+SHUFFLE	COPY_MAP_DATA	16104000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	773992
+SHUFFLE	COMPRESS_BYTE_COUNT	225009
+SHUFFLE	COPY_MAP_DATA	105044000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	766772
+SHUFFLE	COMPRESS_BYTE_COUNT	237829
+SHUFFLE	COPY_MAP_DATA	153980000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	777540
+SHUFFLE	COMPRESS_BYTE_COUNT	237250
+SHUFFLE	COPY_MAP_DATA	14771000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	766030
+SHUFFLE	COMPRESS_BYTE_COUNT	233797
+SHUFFLE	COPY_MAP_DATA	225895000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	818733
+SHUFFLE	COMPRESS_BYTE_COUNT	241864
+SHUFFLE	COPY_MAP_DATA	62586000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	737848
+SHUFFLE	COMPRESS_BYTE_COUNT	224118
+SHUFFLE	COPY_MAP_DATA	13719000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	765536
+SHUFFLE	COMPRESS_BYTE_COUNT	235180
+SHUFFLE	COPY_MAP_DATA	33768000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	768389
+SHUFFLE	COMPRESS_BYTE_COUNT	222580
+SHUFFLE	COPY_MAP_DATA	58229000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	778047
+SHUFFLE	COMPRESS_BYTE_COUNT	230246
+SHUFFLE	COPY_MAP_DATA	14079000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1036852
+SHUFFLE	COMPRESS_BYTE_COUNT	339487
+SHUFFLE	COPY_MAP_DATA	20823000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	937963
+SHUFFLE	COMPRESS_BYTE_COUNT	261912
+SHUFFLE	COPY_MAP_DATA	97942000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	768457
+SHUFFLE	COMPRESS_BYTE_COUNT	234594
+SHUFFLE	COPY_MAP_DATA	15172000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	766391
+SHUFFLE	COMPRESS_BYTE_COUNT	226121
+SHUFFLE	COPY_MAP_DATA	1158268000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	797524
+SHUFFLE	COMPRESS_BYTE_COUNT	233903
+SHUFFLE	COPY_MAP_DATA	186443000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	865764
+SHUFFLE	COMPRESS_BYTE_COUNT	259444
+SHUFFLE	COPY_MAP_DATA	16956000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	736886
+SHUFFLE	COMPRESS_BYTE_COUNT	229026
+SHUFFLE	COPY_MAP_DATA	13874000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	868838
+SHUFFLE	COMPRESS_BYTE_COUNT	262359
+SHUFFLE	COPY_MAP_DATA	14516000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	755193
+SHUFFLE	COMPRESS_BYTE_COUNT	227307
+SHUFFLE	COPY_MAP_DATA	17123000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	872086
+SHUFFLE	COMPRESS_BYTE_COUNT	249172
+SHUFFLE	COPY_MAP_DATA	143221000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	908207
+SHUFFLE	COMPRESS_BYTE_COUNT	254266
+SHUFFLE	COPY_MAP_DATA	19556000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	874128
+SHUFFLE	COMPRESS_BYTE_COUNT	259614
+SHUFFLE	COPY_MAP_DATA	15113000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	763272
+SHUFFLE	COMPRESS_BYTE_COUNT	230261
+SHUFFLE	COPY_MAP_DATA	24083000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	867027
+SHUFFLE	COMPRESS_BYTE_COUNT	253010
+SHUFFLE	COPY_MAP_DATA	373498000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	861052
+SHUFFLE	COMPRESS_BYTE_COUNT	261466
+SHUFFLE	COPY_MAP_DATA	14910000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	739904
+SHUFFLE	COMPRESS_BYTE_COUNT	228054
+SHUFFLE	COPY_MAP_DATA	20958000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	791682
+SHUFFLE	COMPRESS_BYTE_COUNT	241178
+SHUFFLE	COPY_MAP_DATA	78841000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	870965
+SHUFFLE	COMPRESS_BYTE_COUNT	264465
+SHUFFLE	COPY_MAP_DATA	81989000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	811176
+SHUFFLE	COMPRESS_BYTE_COUNT	249813
+SHUFFLE	COPY_MAP_DATA	431286000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	902771
+SHUFFLE	COMPRESS_BYTE_COUNT	260016
+SHUFFLE	COPY_MAP_DATA	169249000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	838235
+SHUFFLE	COMPRESS_BYTE_COUNT	256158
+SHUFFLE	COPY_MAP_DATA	79770000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	770764
+SHUFFLE	COMPRESS_BYTE_COUNT	235545
+SHUFFLE	COPY_MAP_DATA	3150384000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	870360
+SHUFFLE	COMPRESS_BYTE_COUNT	252762
+SHUFFLE	COPY_MAP_DATA	939231000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	824508
+SHUFFLE	COMPRESS_BYTE_COUNT	240979
+SHUFFLE	COPY_MAP_DATA	4797676000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	766908
+SHUFFLE	COMPRESS_BYTE_COUNT	233128
+SHUFFLE	COPY_MAP_DATA	183596000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	794401
+SHUFFLE	COMPRESS_BYTE_COUNT	236406
+SHUFFLE	COPY_MAP_DATA	14569000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	986085
+SHUFFLE	COMPRESS_BYTE_COUNT	307872
+SHUFFLE	COPY_MAP_DATA	18369000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	586770
+SHUFFLE	COMPRESS_BYTE_COUNT	158360
+SHUFFLE	COPY_MAP_DATA	10140000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	732230
+SHUFFLE	COMPRESS_BYTE_COUNT	230849
+SHUFFLE	COPY_MAP_DATA	14522000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	675131
+SHUFFLE	COMPRESS_BYTE_COUNT	207474
+SHUFFLE	COPY_MAP_DATA	13068000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	729650
+SHUFFLE	COMPRESS_BYTE_COUNT	222823
+SHUFFLE	COPY_MAP_DATA	13026000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	862377
+SHUFFLE	COMPRESS_BYTE_COUNT	257377
+SHUFFLE	COPY_MAP_DATA	15157000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	705712
+SHUFFLE	COMPRESS_BYTE_COUNT	214885
+SHUFFLE	COPY_MAP_DATA	12879000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	780062
+SHUFFLE	COMPRESS_BYTE_COUNT	239533
+SHUFFLE	COPY_MAP_DATA	13070000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	957088
+SHUFFLE	COMPRESS_BYTE_COUNT	283979
+SHUFFLE	COPY_MAP_DATA	16798000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	960768
+SHUFFLE	COMPRESS_BYTE_COUNT	271924
+SHUFFLE	COPY_MAP_DATA	16255000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	867994
+SHUFFLE	COMPRESS_BYTE_COUNT	252876
+SHUFFLE	COPY_MAP_DATA	25160000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	739904
+SHUFFLE	COMPRESS_BYTE_COUNT	228054
+SHUFFLE	COPY_MAP_DATA	15235000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	757764
+SHUFFLE	COMPRESS_BYTE_COUNT	231101
+SHUFFLE	COPY_MAP_DATA	15221000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	792324
+SHUFFLE	COMPRESS_BYTE_COUNT	238092
+SHUFFLE	COPY_MAP_DATA	13073000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	795155
+SHUFFLE	COMPRESS_BYTE_COUNT	233372
+SHUFFLE	COPY_MAP_DATA	13913000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	740015
+SHUFFLE	COMPRESS_BYTE_COUNT	223073
+SHUFFLE	COPY_MAP_DATA	213884000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	748148
+SHUFFLE	COMPRESS_BYTE_COUNT	223890
+SHUFFLE	COPY_MAP_DATA	13239000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	492515
+SHUFFLE	COMPRESS_BYTE_COUNT	111141
+SHUFFLE	COPY_MAP_DATA	8140000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	644731
+SHUFFLE	COMPRESS_BYTE_COUNT	202050
+SHUFFLE	COPY_MAP_DATA	22113000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	800031
+SHUFFLE	COMPRESS_BYTE_COUNT	248222
+SHUFFLE	COPY_MAP_DATA	15114000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	950001
+SHUFFLE	COMPRESS_BYTE_COUNT	310232
+SHUFFLE	COPY_MAP_DATA	17056000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	782127
+SHUFFLE	COMPRESS_BYTE_COUNT	233885
+SHUFFLE	COPY_MAP_DATA	32579000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	876428
+SHUFFLE	COMPRESS_BYTE_COUNT	283842
+SHUFFLE	COPY_MAP_DATA	16170000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	751381
+SHUFFLE	COMPRESS_BYTE_COUNT	241879
+SHUFFLE	COPY_MAP_DATA	14961000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	242341117000
+MERGE	READ_WRITE	237966825000
+MERGE	READ_WRITE_COUNT	2
+MERGE	COMBINE	0
+MERGE	WRITE	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	36513509000
+SORT	READ_WRITE	36327271000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	172350992
+REDUCE	SETUP	294000
+REDUCE	SETUP_MEM	172350992
+REDUCE	CLEANUP	31000
+REDUCE	CLEANUP_MEM	158662632
+REDUCE	TOTAL_RUN	125073762000
+REDUCE	READ	9216757000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	109231205000
+REDUCE	WRITE	48819491000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	71374769
+REDUCE	VALUE_BYTE_COUNT	65141353
+REDUCE	REDUCE_MEM	158662632
+REDUCE	WRITE	8425000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	797483637000
@@ -0,0 +1,1333 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1987582
+SHUFFLE	COMPRESS_BYTE_COUNT	566799
+SHUFFLE	COPY_MAP_DATA	118390000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1917100
+SHUFFLE	COMPRESS_BYTE_COUNT	556399
+SHUFFLE	COPY_MAP_DATA	41746000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2051185
+SHUFFLE	COMPRESS_BYTE_COUNT	577147
+SHUFFLE	COPY_MAP_DATA	46491000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1822820
+SHUFFLE	COMPRESS_BYTE_COUNT	550632
+SHUFFLE	COPY_MAP_DATA	34478000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1964954
+SHUFFLE	COMPRESS_BYTE_COUNT	558560
+SHUFFLE	COPY_MAP_DATA	43153000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2028234
+SHUFFLE	COMPRESS_BYTE_COUNT	582161
+SHUFFLE	COPY_MAP_DATA	38397000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1910965
+SHUFFLE	COMPRESS_BYTE_COUNT	559822
+SHUFFLE	COPY_MAP_DATA	101799000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1952884
+SHUFFLE	COMPRESS_BYTE_COUNT	577176
+SHUFFLE	COPY_MAP_DATA	39551000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1860113
+SHUFFLE	COMPRESS_BYTE_COUNT	478378
+SHUFFLE	COPY_MAP_DATA	40730000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1904904
+SHUFFLE	COMPRESS_BYTE_COUNT	530752
+SHUFFLE	COPY_MAP_DATA	54893000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1705973
+SHUFFLE	COMPRESS_BYTE_COUNT	472570
+SHUFFLE	COPY_MAP_DATA	49828000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2129033
+SHUFFLE	COMPRESS_BYTE_COUNT	569401
+SHUFFLE	COPY_MAP_DATA	67754000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1910554
+SHUFFLE	COMPRESS_BYTE_COUNT	564906
+SHUFFLE	COPY_MAP_DATA	104398000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1926514
+SHUFFLE	COMPRESS_BYTE_COUNT	565626
+SHUFFLE	COPY_MAP_DATA	141124000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2084385
+SHUFFLE	COMPRESS_BYTE_COUNT	554561
+SHUFFLE	COPY_MAP_DATA	157651000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2018526
+SHUFFLE	COMPRESS_BYTE_COUNT	556712
+SHUFFLE	COPY_MAP_DATA	32268000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1955699
+SHUFFLE	COMPRESS_BYTE_COUNT	576811
+SHUFFLE	COPY_MAP_DATA	86457000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2032331
+SHUFFLE	COMPRESS_BYTE_COUNT	566929
+SHUFFLE	COPY_MAP_DATA	52300000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1964695
+SHUFFLE	COMPRESS_BYTE_COUNT	572293
+SHUFFLE	COPY_MAP_DATA	70721000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1963571
+SHUFFLE	COMPRESS_BYTE_COUNT	574045
+SHUFFLE	COPY_MAP_DATA	32607000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2028092
+SHUFFLE	COMPRESS_BYTE_COUNT	555139
+SHUFFLE	COPY_MAP_DATA	141780000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2073722
+SHUFFLE	COMPRESS_BYTE_COUNT	578330
+SHUFFLE	COPY_MAP_DATA	123926000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2079651
+SHUFFLE	COMPRESS_BYTE_COUNT	565610
+SHUFFLE	COPY_MAP_DATA	51888000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1982772
+SHUFFLE	COMPRESS_BYTE_COUNT	546267
+SHUFFLE	COPY_MAP_DATA	73228000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2005997
+SHUFFLE	COMPRESS_BYTE_COUNT	573757
+SHUFFLE	COPY_MAP_DATA	64359000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1781808
+SHUFFLE	COMPRESS_BYTE_COUNT	486103
+SHUFFLE	COPY_MAP_DATA	40691000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2021834
+SHUFFLE	COMPRESS_BYTE_COUNT	553489
+SHUFFLE	COPY_MAP_DATA	74222000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2031138
+SHUFFLE	COMPRESS_BYTE_COUNT	577513
+SHUFFLE	COPY_MAP_DATA	245489000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1885413
+SHUFFLE	COMPRESS_BYTE_COUNT	556325
+SHUFFLE	COPY_MAP_DATA	49462000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2126555
+SHUFFLE	COMPRESS_BYTE_COUNT	581676
+SHUFFLE	COPY_MAP_DATA	324477000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1792504
+SHUFFLE	COMPRESS_BYTE_COUNT	535515
+SHUFFLE	COPY_MAP_DATA	82060000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1852368
+SHUFFLE	COMPRESS_BYTE_COUNT	555891
+SHUFFLE	COPY_MAP_DATA	32104000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1760778
+SHUFFLE	COMPRESS_BYTE_COUNT	532806
+SHUFFLE	COPY_MAP_DATA	32939000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1843802
+SHUFFLE	COMPRESS_BYTE_COUNT	557046
+SHUFFLE	COPY_MAP_DATA	38009000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1957839
+SHUFFLE	COMPRESS_BYTE_COUNT	573823
+SHUFFLE	COPY_MAP_DATA	38874000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1620640
+SHUFFLE	COMPRESS_BYTE_COUNT	469373
+SHUFFLE	COPY_MAP_DATA	28887000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2012354
+SHUFFLE	COMPRESS_BYTE_COUNT	578833
+SHUFFLE	COPY_MAP_DATA	36791000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1935597
+SHUFFLE	COMPRESS_BYTE_COUNT	563985
+SHUFFLE	COPY_MAP_DATA	34147000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1817758
+SHUFFLE	COMPRESS_BYTE_COUNT	548142
+SHUFFLE	COPY_MAP_DATA	34814000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1839125
+SHUFFLE	COMPRESS_BYTE_COUNT	543296
+SHUFFLE	COPY_MAP_DATA	229576000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1777535
+SHUFFLE	COMPRESS_BYTE_COUNT	542750
+SHUFFLE	COPY_MAP_DATA	52914000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1852969
+SHUFFLE	COMPRESS_BYTE_COUNT	555332
+SHUFFLE	COPY_MAP_DATA	76288000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1596559
+SHUFFLE	COMPRESS_BYTE_COUNT	427486
+SHUFFLE	COPY_MAP_DATA	59438000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1831566
+SHUFFLE	COMPRESS_BYTE_COUNT	545907
+SHUFFLE	COPY_MAP_DATA	175392000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1644819
+SHUFFLE	COMPRESS_BYTE_COUNT	481408
+SHUFFLE	COPY_MAP_DATA	52596000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1838683
+SHUFFLE	COMPRESS_BYTE_COUNT	553443
+SHUFFLE	COPY_MAP_DATA	46516000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1757240
+SHUFFLE	COMPRESS_BYTE_COUNT	540560
+SHUFFLE	COPY_MAP_DATA	105465000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1639700
+SHUFFLE	COMPRESS_BYTE_COUNT	489960
+SHUFFLE	COPY_MAP_DATA	30490000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1926614
+SHUFFLE	COMPRESS_BYTE_COUNT	563196
+SHUFFLE	COPY_MAP_DATA	1199222000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1645081
+SHUFFLE	COMPRESS_BYTE_COUNT	481239
+SHUFFLE	COPY_MAP_DATA	27148000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1804117
+SHUFFLE	COMPRESS_BYTE_COUNT	546806
+SHUFFLE	COPY_MAP_DATA	44046000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1898266
+SHUFFLE	COMPRESS_BYTE_COUNT	539924
+SHUFFLE	COPY_MAP_DATA	151754000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1868568
+SHUFFLE	COMPRESS_BYTE_COUNT	535237
+SHUFFLE	COPY_MAP_DATA	31427000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1809710
+SHUFFLE	COMPRESS_BYTE_COUNT	549621
+SHUFFLE	COPY_MAP_DATA	528136000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1797240
+SHUFFLE	COMPRESS_BYTE_COUNT	509220
+SHUFFLE	COPY_MAP_DATA	280214000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1788539
+SHUFFLE	COMPRESS_BYTE_COUNT	515402
+SHUFFLE	COPY_MAP_DATA	77186000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1973161
+SHUFFLE	COMPRESS_BYTE_COUNT	560623
+SHUFFLE	COPY_MAP_DATA	61451000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1754660
+SHUFFLE	COMPRESS_BYTE_COUNT	530116
+SHUFFLE	COPY_MAP_DATA	68358000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1905938
+SHUFFLE	COMPRESS_BYTE_COUNT	552876
+SHUFFLE	COPY_MAP_DATA	100403000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1726590
+SHUFFLE	COMPRESS_BYTE_COUNT	526011
+SHUFFLE	COPY_MAP_DATA	228864000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1620365
+SHUFFLE	COMPRESS_BYTE_COUNT	480777
+SHUFFLE	COPY_MAP_DATA	453758000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1673466
+SHUFFLE	COMPRESS_BYTE_COUNT	490318
+SHUFFLE	COPY_MAP_DATA	28137000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1658506
+SHUFFLE	COMPRESS_BYTE_COUNT	493365
+SHUFFLE	COPY_MAP_DATA	35720000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1581896
+SHUFFLE	COMPRESS_BYTE_COUNT	448316
+SHUFFLE	COPY_MAP_DATA	128265000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1689459
+SHUFFLE	COMPRESS_BYTE_COUNT	491685
+SHUFFLE	COPY_MAP_DATA	80422000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1917059
+SHUFFLE	COMPRESS_BYTE_COUNT	548897
+SHUFFLE	COPY_MAP_DATA	52060000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1681933
+SHUFFLE	COMPRESS_BYTE_COUNT	486163
+SHUFFLE	COPY_MAP_DATA	28381000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1650303
+SHUFFLE	COMPRESS_BYTE_COUNT	477819
+SHUFFLE	COPY_MAP_DATA	27615000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1748899
+SHUFFLE	COMPRESS_BYTE_COUNT	478782
+SHUFFLE	COPY_MAP_DATA	373497000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1755820
+SHUFFLE	COMPRESS_BYTE_COUNT	489861
+SHUFFLE	COPY_MAP_DATA	438413000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1600867
+SHUFFLE	COMPRESS_BYTE_COUNT	462089
+SHUFFLE	COPY_MAP_DATA	188135000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1687509
+SHUFFLE	COMPRESS_BYTE_COUNT	457418
+SHUFFLE	COPY_MAP_DATA	58337000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1958382
+SHUFFLE	COMPRESS_BYTE_COUNT	583930
+SHUFFLE	COPY_MAP_DATA	92112000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1670628
+SHUFFLE	COMPRESS_BYTE_COUNT	486412
+SHUFFLE	COPY_MAP_DATA	49395000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1725184
+SHUFFLE	COMPRESS_BYTE_COUNT	473256
+SHUFFLE	COPY_MAP_DATA	167225000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1694439
+SHUFFLE	COMPRESS_BYTE_COUNT	484140
+SHUFFLE	COPY_MAP_DATA	96308000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1690111
+SHUFFLE	COMPRESS_BYTE_COUNT	485484
+SHUFFLE	COPY_MAP_DATA	94694000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1650158
+SHUFFLE	COMPRESS_BYTE_COUNT	468809
+SHUFFLE	COPY_MAP_DATA	86564000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1777852
+SHUFFLE	COMPRESS_BYTE_COUNT	499997
+SHUFFLE	COPY_MAP_DATA	45877000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2004965
+SHUFFLE	COMPRESS_BYTE_COUNT	492676
+SHUFFLE	COPY_MAP_DATA	47829000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1865955
+SHUFFLE	COMPRESS_BYTE_COUNT	532031
+SHUFFLE	COPY_MAP_DATA	28761000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1870770
+SHUFFLE	COMPRESS_BYTE_COUNT	577965
+SHUFFLE	COPY_MAP_DATA	48591000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1717200
+SHUFFLE	COMPRESS_BYTE_COUNT	488127
+SHUFFLE	COPY_MAP_DATA	50146000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1927367
+SHUFFLE	COMPRESS_BYTE_COUNT	548663
+SHUFFLE	COPY_MAP_DATA	1351565000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1725631
+SHUFFLE	COMPRESS_BYTE_COUNT	489240
+SHUFFLE	COPY_MAP_DATA	332194000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1637495
+SHUFFLE	COMPRESS_BYTE_COUNT	473594
+SHUFFLE	COPY_MAP_DATA	35824000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1766784
+SHUFFLE	COMPRESS_BYTE_COUNT	545411
+SHUFFLE	COPY_MAP_DATA	53364000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	851876
+SHUFFLE	COMPRESS_BYTE_COUNT	237671
+SHUFFLE	COPY_MAP_DATA	15120000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1531780
+SHUFFLE	COMPRESS_BYTE_COUNT	443183
+SHUFFLE	COPY_MAP_DATA	58924000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1586143
+SHUFFLE	COMPRESS_BYTE_COUNT	453588
+SHUFFLE	COPY_MAP_DATA	47085000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1609511
+SHUFFLE	COMPRESS_BYTE_COUNT	461594
+SHUFFLE	COPY_MAP_DATA	121100000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1008239
+SHUFFLE	COMPRESS_BYTE_COUNT	271205
+SHUFFLE	COPY_MAP_DATA	1798939000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	922620
+SHUFFLE	COMPRESS_BYTE_COUNT	266860
+SHUFFLE	COPY_MAP_DATA	1347393000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	859190
+SHUFFLE	COMPRESS_BYTE_COUNT	248001
+SHUFFLE	COPY_MAP_DATA	94094000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1734671
+SHUFFLE	COMPRESS_BYTE_COUNT	479279
+SHUFFLE	COPY_MAP_DATA	96752000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	821348
+SHUFFLE	COMPRESS_BYTE_COUNT	241394
+SHUFFLE	COPY_MAP_DATA	66720000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1046531
+SHUFFLE	COMPRESS_BYTE_COUNT	299322
+SHUFFLE	COPY_MAP_DATA	98246000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1914467
+SHUFFLE	COMPRESS_BYTE_COUNT	507977
+SHUFFLE	COPY_MAP_DATA	49711000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	884627
+SHUFFLE	COMPRESS_BYTE_COUNT	247690
+SHUFFLE	COPY_MAP_DATA	35993000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1480091
+SHUFFLE	COMPRESS_BYTE_COUNT	433101
+SHUFFLE	COPY_MAP_DATA	81492000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1774211
+SHUFFLE	COMPRESS_BYTE_COUNT	498594
+SHUFFLE	COPY_MAP_DATA	28457000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1644103
+SHUFFLE	COMPRESS_BYTE_COUNT	474461
+SHUFFLE	COPY_MAP_DATA	51175000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1689573
+SHUFFLE	COMPRESS_BYTE_COUNT	493654
+SHUFFLE	COPY_MAP_DATA	84506000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1503652
+SHUFFLE	COMPRESS_BYTE_COUNT	428627
+SHUFFLE	COPY_MAP_DATA	412660000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1500861
+SHUFFLE	COMPRESS_BYTE_COUNT	444998
+SHUFFLE	COPY_MAP_DATA	27574000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1018315
+SHUFFLE	COMPRESS_BYTE_COUNT	292066
+SHUFFLE	COPY_MAP_DATA	112574000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1618424
+SHUFFLE	COMPRESS_BYTE_COUNT	459495
+SHUFFLE	COPY_MAP_DATA	25319000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	997415
+SHUFFLE	COMPRESS_BYTE_COUNT	291352
+SHUFFLE	COPY_MAP_DATA	17409000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1771860
+SHUFFLE	COMPRESS_BYTE_COUNT	517558
+SHUFFLE	COPY_MAP_DATA	26452000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1751445
+SHUFFLE	COMPRESS_BYTE_COUNT	539188
+SHUFFLE	COPY_MAP_DATA	27357000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1090655
+SHUFFLE	COMPRESS_BYTE_COUNT	298928
+SHUFFLE	COPY_MAP_DATA	18553000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	993732
+SHUFFLE	COMPRESS_BYTE_COUNT	286482
+SHUFFLE	COPY_MAP_DATA	16576000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1635237
+SHUFFLE	COMPRESS_BYTE_COUNT	475788
+SHUFFLE	COPY_MAP_DATA	27453000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1241364
+SHUFFLE	COMPRESS_BYTE_COUNT	307151
+SHUFFLE	COPY_MAP_DATA	19414000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	981563
+SHUFFLE	COMPRESS_BYTE_COUNT	286643
+SHUFFLE	COPY_MAP_DATA	52716000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1726011
+SHUFFLE	COMPRESS_BYTE_COUNT	487644
+SHUFFLE	COPY_MAP_DATA	26256000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1655991
+SHUFFLE	COMPRESS_BYTE_COUNT	505118
+SHUFFLE	COPY_MAP_DATA	58448000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1880891
+SHUFFLE	COMPRESS_BYTE_COUNT	540591
+SHUFFLE	COPY_MAP_DATA	1511687000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1554290
+SHUFFLE	COMPRESS_BYTE_COUNT	461824
+SHUFFLE	COPY_MAP_DATA	28283000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1010210
+SHUFFLE	COMPRESS_BYTE_COUNT	293317
+SHUFFLE	COPY_MAP_DATA	98338000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1000485
+SHUFFLE	COMPRESS_BYTE_COUNT	293342
+SHUFFLE	COPY_MAP_DATA	71640000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1724237
+SHUFFLE	COMPRESS_BYTE_COUNT	492262
+SHUFFLE	COPY_MAP_DATA	65111000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	947020
+SHUFFLE	COMPRESS_BYTE_COUNT	292830
+SHUFFLE	COPY_MAP_DATA	537226000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1030368
+SHUFFLE	COMPRESS_BYTE_COUNT	302920
+SHUFFLE	COPY_MAP_DATA	39044000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1009066
+SHUFFLE	COMPRESS_BYTE_COUNT	300471
+SHUFFLE	COPY_MAP_DATA	129525000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	998388
+SHUFFLE	COMPRESS_BYTE_COUNT	291288
+SHUFFLE	COPY_MAP_DATA	26896000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	980904
+SHUFFLE	COMPRESS_BYTE_COUNT	293131
+SHUFFLE	COPY_MAP_DATA	1608717000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	907491
+SHUFFLE	COMPRESS_BYTE_COUNT	265544
+SHUFFLE	COPY_MAP_DATA	113975000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1034290
+SHUFFLE	COMPRESS_BYTE_COUNT	304943
+SHUFFLE	COPY_MAP_DATA	21594000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1003521
+SHUFFLE	COMPRESS_BYTE_COUNT	293575
+SHUFFLE	COPY_MAP_DATA	81445000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1006680
+SHUFFLE	COMPRESS_BYTE_COUNT	300522
+SHUFFLE	COPY_MAP_DATA	19460000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1000186
+SHUFFLE	COMPRESS_BYTE_COUNT	300821
+SHUFFLE	COPY_MAP_DATA	35315000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1000757
+SHUFFLE	COMPRESS_BYTE_COUNT	299544
+SHUFFLE	COPY_MAP_DATA	20203000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1042121
+SHUFFLE	COMPRESS_BYTE_COUNT	306141
+SHUFFLE	COPY_MAP_DATA	5797905000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1008318
+SHUFFLE	COMPRESS_BYTE_COUNT	294723
+SHUFFLE	COPY_MAP_DATA	86624000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	995869
+SHUFFLE	COMPRESS_BYTE_COUNT	294637
+SHUFFLE	COPY_MAP_DATA	80376000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1066976
+SHUFFLE	COMPRESS_BYTE_COUNT	295127
+SHUFFLE	COPY_MAP_DATA	76368000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1012677
+SHUFFLE	COMPRESS_BYTE_COUNT	297287
+SHUFFLE	COPY_MAP_DATA	192000000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	970082
+SHUFFLE	COMPRESS_BYTE_COUNT	288738
+SHUFFLE	COPY_MAP_DATA	81326000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1073239
+SHUFFLE	COMPRESS_BYTE_COUNT	315822
+SHUFFLE	COPY_MAP_DATA	61715000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	976239
+SHUFFLE	COMPRESS_BYTE_COUNT	295942
+SHUFFLE	COPY_MAP_DATA	43897000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	968283
+SHUFFLE	COMPRESS_BYTE_COUNT	297092
+SHUFFLE	COPY_MAP_DATA	17192000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	995290
+SHUFFLE	COMPRESS_BYTE_COUNT	301234
+SHUFFLE	COPY_MAP_DATA	29397000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	975029
+SHUFFLE	COMPRESS_BYTE_COUNT	296121
+SHUFFLE	COPY_MAP_DATA	51409000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	993946
+SHUFFLE	COMPRESS_BYTE_COUNT	303936
+SHUFFLE	COPY_MAP_DATA	37566000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1005242
+SHUFFLE	COMPRESS_BYTE_COUNT	302025
+SHUFFLE	COPY_MAP_DATA	183938000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	949386
+SHUFFLE	COMPRESS_BYTE_COUNT	281474
+SHUFFLE	COPY_MAP_DATA	22051000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1096189
+SHUFFLE	COMPRESS_BYTE_COUNT	308923
+SHUFFLE	COPY_MAP_DATA	27190000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1023084
+SHUFFLE	COMPRESS_BYTE_COUNT	303763
+SHUFFLE	COPY_MAP_DATA	285054000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	978628
+SHUFFLE	COMPRESS_BYTE_COUNT	293581
+SHUFFLE	COPY_MAP_DATA	51934000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	977857
+SHUFFLE	COMPRESS_BYTE_COUNT	305528
+SHUFFLE	COPY_MAP_DATA	39307000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1000985
+SHUFFLE	COMPRESS_BYTE_COUNT	299823
+SHUFFLE	COPY_MAP_DATA	186838000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1128050
+SHUFFLE	COMPRESS_BYTE_COUNT	296891
+SHUFFLE	COPY_MAP_DATA	16894000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	969087
+SHUFFLE	COMPRESS_BYTE_COUNT	290837
+SHUFFLE	COPY_MAP_DATA	30759000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	956923
+SHUFFLE	COMPRESS_BYTE_COUNT	294990
+SHUFFLE	COPY_MAP_DATA	54204000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	945094
+SHUFFLE	COMPRESS_BYTE_COUNT	293465
+SHUFFLE	COPY_MAP_DATA	55226000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1006167
+SHUFFLE	COMPRESS_BYTE_COUNT	302973
+SHUFFLE	COPY_MAP_DATA	18586000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1001917
+SHUFFLE	COMPRESS_BYTE_COUNT	274208
+SHUFFLE	COPY_MAP_DATA	79261000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	984386
+SHUFFLE	COMPRESS_BYTE_COUNT	281441
+SHUFFLE	COPY_MAP_DATA	70165000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	948586
+SHUFFLE	COMPRESS_BYTE_COUNT	293486
+SHUFFLE	COPY_MAP_DATA	29533000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	963660
+SHUFFLE	COMPRESS_BYTE_COUNT	292423
+SHUFFLE	COPY_MAP_DATA	31437000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1008056
+SHUFFLE	COMPRESS_BYTE_COUNT	300960
+SHUFFLE	COPY_MAP_DATA	131635000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	931138
+SHUFFLE	COMPRESS_BYTE_COUNT	287543
+SHUFFLE	COPY_MAP_DATA	49591000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1003094
+SHUFFLE	COMPRESS_BYTE_COUNT	292413
+SHUFFLE	COPY_MAP_DATA	412098000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	938409
+SHUFFLE	COMPRESS_BYTE_COUNT	291987
+SHUFFLE	COPY_MAP_DATA	35824000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	958233
+SHUFFLE	COMPRESS_BYTE_COUNT	295655
+SHUFFLE	COPY_MAP_DATA	17007000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1012170
+SHUFFLE	COMPRESS_BYTE_COUNT	304994
+SHUFFLE	COPY_MAP_DATA	17253000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	954044
+SHUFFLE	COMPRESS_BYTE_COUNT	288456
+SHUFFLE	COPY_MAP_DATA	20176000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1029239
+SHUFFLE	COMPRESS_BYTE_COUNT	299532
+SHUFFLE	COPY_MAP_DATA	53675000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	999608
+SHUFFLE	COMPRESS_BYTE_COUNT	302986
+SHUFFLE	COPY_MAP_DATA	29948000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	977930
+SHUFFLE	COMPRESS_BYTE_COUNT	296370
+SHUFFLE	COPY_MAP_DATA	17990000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	907667
+SHUFFLE	COMPRESS_BYTE_COUNT	285111
+SHUFFLE	COPY_MAP_DATA	237143000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	972147
+SHUFFLE	COMPRESS_BYTE_COUNT	295081
+SHUFFLE	COPY_MAP_DATA	18720000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	896712
+SHUFFLE	COMPRESS_BYTE_COUNT	280239
+SHUFFLE	COPY_MAP_DATA	71103000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	988458
+SHUFFLE	COMPRESS_BYTE_COUNT	301077
+SHUFFLE	COPY_MAP_DATA	41196000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	956971
+SHUFFLE	COMPRESS_BYTE_COUNT	293458
+SHUFFLE	COPY_MAP_DATA	40158000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	960544
+SHUFFLE	COMPRESS_BYTE_COUNT	299084
+SHUFFLE	COPY_MAP_DATA	17869000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	949534
+SHUFFLE	COMPRESS_BYTE_COUNT	297270
+SHUFFLE	COPY_MAP_DATA	89328000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	946652
+SHUFFLE	COMPRESS_BYTE_COUNT	289465
+SHUFFLE	COPY_MAP_DATA	95353000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	956554
+SHUFFLE	COMPRESS_BYTE_COUNT	300561
+SHUFFLE	COPY_MAP_DATA	77252000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	938763
+SHUFFLE	COMPRESS_BYTE_COUNT	289394
+SHUFFLE	COPY_MAP_DATA	15973000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	936249
+SHUFFLE	COMPRESS_BYTE_COUNT	291362
+SHUFFLE	COPY_MAP_DATA	54996000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	874020
+SHUFFLE	COMPRESS_BYTE_COUNT	280015
+SHUFFLE	COPY_MAP_DATA	34110000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	879583
+SHUFFLE	COMPRESS_BYTE_COUNT	276461
+SHUFFLE	COPY_MAP_DATA	15334000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	894844
+SHUFFLE	COMPRESS_BYTE_COUNT	280573
+SHUFFLE	COPY_MAP_DATA	198299000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	962956
+SHUFFLE	COMPRESS_BYTE_COUNT	294091
+SHUFFLE	COPY_MAP_DATA	17762000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	907877
+SHUFFLE	COMPRESS_BYTE_COUNT	282449
+SHUFFLE	COPY_MAP_DATA	14556000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	861368
+SHUFFLE	COMPRESS_BYTE_COUNT	270411
+SHUFFLE	COPY_MAP_DATA	15609000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	943841
+SHUFFLE	COMPRESS_BYTE_COUNT	295342
+SHUFFLE	COPY_MAP_DATA	15319000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	936137
+SHUFFLE	COMPRESS_BYTE_COUNT	295294
+SHUFFLE	COPY_MAP_DATA	78248000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	901483
+SHUFFLE	COMPRESS_BYTE_COUNT	282560
+SHUFFLE	COPY_MAP_DATA	44975000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	911990
+SHUFFLE	COMPRESS_BYTE_COUNT	289839
+SHUFFLE	COPY_MAP_DATA	36468000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	898862
+SHUFFLE	COMPRESS_BYTE_COUNT	280925
+SHUFFLE	COPY_MAP_DATA	389394000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	895319
+SHUFFLE	COMPRESS_BYTE_COUNT	277227
+SHUFFLE	COPY_MAP_DATA	29522000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	892129
+SHUFFLE	COMPRESS_BYTE_COUNT	278485
+SHUFFLE	COPY_MAP_DATA	153026000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	914748
+SHUFFLE	COMPRESS_BYTE_COUNT	287313
+SHUFFLE	COPY_MAP_DATA	158790000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	955658
+SHUFFLE	COMPRESS_BYTE_COUNT	295962
+SHUFFLE	COPY_MAP_DATA	16656000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	905541
+SHUFFLE	COMPRESS_BYTE_COUNT	289408
+SHUFFLE	COPY_MAP_DATA	110797000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	857216
+SHUFFLE	COMPRESS_BYTE_COUNT	270737
+SHUFFLE	COPY_MAP_DATA	104087000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	887718
+SHUFFLE	COMPRESS_BYTE_COUNT	270658
+SHUFFLE	COPY_MAP_DATA	449926000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	921263
+SHUFFLE	COMPRESS_BYTE_COUNT	286181
+SHUFFLE	COPY_MAP_DATA	36787000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	903941
+SHUFFLE	COMPRESS_BYTE_COUNT	262033
+SHUFFLE	COPY_MAP_DATA	582991000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	901742
+SHUFFLE	COMPRESS_BYTE_COUNT	283913
+SHUFFLE	COPY_MAP_DATA	17503000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	855800
+SHUFFLE	COMPRESS_BYTE_COUNT	270828
+SHUFFLE	COPY_MAP_DATA	36076000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	832769
+SHUFFLE	COMPRESS_BYTE_COUNT	256239
+SHUFFLE	COPY_MAP_DATA	13870000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	871996
+SHUFFLE	COMPRESS_BYTE_COUNT	275439
+SHUFFLE	COPY_MAP_DATA	102380000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	948802
+SHUFFLE	COMPRESS_BYTE_COUNT	292889
+SHUFFLE	COPY_MAP_DATA	37639000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	917864
+SHUFFLE	COMPRESS_BYTE_COUNT	277901
+SHUFFLE	COPY_MAP_DATA	37411000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	959984
+SHUFFLE	COMPRESS_BYTE_COUNT	290267
+SHUFFLE	COPY_MAP_DATA	578523000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	859297
+SHUFFLE	COMPRESS_BYTE_COUNT	269174
+SHUFFLE	COPY_MAP_DATA	17147000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	944933
+SHUFFLE	COMPRESS_BYTE_COUNT	291252
+SHUFFLE	COPY_MAP_DATA	16995000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	908586
+SHUFFLE	COMPRESS_BYTE_COUNT	265157
+SHUFFLE	COPY_MAP_DATA	16330000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	894964
+SHUFFLE	COMPRESS_BYTE_COUNT	282450
+SHUFFLE	COPY_MAP_DATA	16847000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	846515
+SHUFFLE	COMPRESS_BYTE_COUNT	255918
+SHUFFLE	COPY_MAP_DATA	15966000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	813414
+SHUFFLE	COMPRESS_BYTE_COUNT	247752
+SHUFFLE	COPY_MAP_DATA	15173000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	847009
+SHUFFLE	COMPRESS_BYTE_COUNT	270105
+SHUFFLE	COPY_MAP_DATA	136877000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	851799
+SHUFFLE	COMPRESS_BYTE_COUNT	263933
+SHUFFLE	COPY_MAP_DATA	427926000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1028230
+SHUFFLE	COMPRESS_BYTE_COUNT	290830
+SHUFFLE	COPY_MAP_DATA	77433000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	854950
+SHUFFLE	COMPRESS_BYTE_COUNT	258469
+SHUFFLE	COPY_MAP_DATA	1576527000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	844691
+SHUFFLE	COMPRESS_BYTE_COUNT	251297
+SHUFFLE	COPY_MAP_DATA	45986000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	855500
+SHUFFLE	COMPRESS_BYTE_COUNT	271539
+SHUFFLE	COPY_MAP_DATA	383813000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	876047
+SHUFFLE	COMPRESS_BYTE_COUNT	260778
+SHUFFLE	COPY_MAP_DATA	1449657000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	865043
+SHUFFLE	COMPRESS_BYTE_COUNT	265120
+SHUFFLE	COPY_MAP_DATA	15959000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	849092
+SHUFFLE	COMPRESS_BYTE_COUNT	255497
+SHUFFLE	COPY_MAP_DATA	413808000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1044378
+SHUFFLE	COMPRESS_BYTE_COUNT	300302
+SHUFFLE	COPY_MAP_DATA	61771000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	796235
+SHUFFLE	COMPRESS_BYTE_COUNT	247728
+SHUFFLE	COPY_MAP_DATA	39545000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	853890
+SHUFFLE	COMPRESS_BYTE_COUNT	260299
+SHUFFLE	COPY_MAP_DATA	15174000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	839031
+SHUFFLE	COMPRESS_BYTE_COUNT	244127
+SHUFFLE	COPY_MAP_DATA	267856000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	879655
+SHUFFLE	COMPRESS_BYTE_COUNT	263608
+SHUFFLE	COPY_MAP_DATA	33427000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	700779
+SHUFFLE	COMPRESS_BYTE_COUNT	197891
+SHUFFLE	COPY_MAP_DATA	1358036000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	893301
+SHUFFLE	COMPRESS_BYTE_COUNT	267270
+SHUFFLE	COPY_MAP_DATA	294034000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	809296
+SHUFFLE	COMPRESS_BYTE_COUNT	241877
+SHUFFLE	COPY_MAP_DATA	71623000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1029343
+SHUFFLE	COMPRESS_BYTE_COUNT	297125
+SHUFFLE	COPY_MAP_DATA	77720000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	822260
+SHUFFLE	COMPRESS_BYTE_COUNT	251675
+SHUFFLE	COPY_MAP_DATA	14941000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	821754
+SHUFFLE	COMPRESS_BYTE_COUNT	242458
+SHUFFLE	COPY_MAP_DATA	69822000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	843463
+SHUFFLE	COMPRESS_BYTE_COUNT	251358
+SHUFFLE	COPY_MAP_DATA	13786000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	842904
+SHUFFLE	COMPRESS_BYTE_COUNT	258833
+SHUFFLE	COPY_MAP_DATA	16927000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	849854
+SHUFFLE	COMPRESS_BYTE_COUNT	256219
+SHUFFLE	COPY_MAP_DATA	15967000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	794883
+SHUFFLE	COMPRESS_BYTE_COUNT	240406
+SHUFFLE	COPY_MAP_DATA	24291000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	822291
+SHUFFLE	COMPRESS_BYTE_COUNT	249492
+SHUFFLE	COPY_MAP_DATA	16123000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	817509
+SHUFFLE	COMPRESS_BYTE_COUNT	241876
+SHUFFLE	COPY_MAP_DATA	71055000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	885330
+SHUFFLE	COMPRESS_BYTE_COUNT	245010
+SHUFFLE	COPY_MAP_DATA	27871000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	798568
+SHUFFLE	COMPRESS_BYTE_COUNT	241230
+SHUFFLE	COPY_MAP_DATA	14465000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	787903
+SHUFFLE	COMPRESS_BYTE_COUNT	242554
+SHUFFLE	COPY_MAP_DATA	25226000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	853357
+SHUFFLE	COMPRESS_BYTE_COUNT	259748
+SHUFFLE	COPY_MAP_DATA	15476000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	769870
+SHUFFLE	COMPRESS_BYTE_COUNT	233181
+SHUFFLE	COPY_MAP_DATA	14680000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	994642
+SHUFFLE	COMPRESS_BYTE_COUNT	286325
+SHUFFLE	COPY_MAP_DATA	17429000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	870790
+SHUFFLE	COMPRESS_BYTE_COUNT	256246
+SHUFFLE	COPY_MAP_DATA	32499000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	804701
+SHUFFLE	COMPRESS_BYTE_COUNT	241893
+SHUFFLE	COPY_MAP_DATA	75697000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	848832
+SHUFFLE	COMPRESS_BYTE_COUNT	262692
+SHUFFLE	COPY_MAP_DATA	14451000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	849482
+SHUFFLE	COMPRESS_BYTE_COUNT	255502
+SHUFFLE	COPY_MAP_DATA	23232000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	871315
+SHUFFLE	COMPRESS_BYTE_COUNT	263824
+SHUFFLE	COPY_MAP_DATA	47977000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	880495
+SHUFFLE	COMPRESS_BYTE_COUNT	236128
+SHUFFLE	COPY_MAP_DATA	717847000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1163501
+SHUFFLE	COMPRESS_BYTE_COUNT	361287
+SHUFFLE	COPY_MAP_DATA	154264000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	927147
+SHUFFLE	COMPRESS_BYTE_COUNT	252529
+SHUFFLE	COPY_MAP_DATA	207361000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	782263
+SHUFFLE	COMPRESS_BYTE_COUNT	235567
+SHUFFLE	COPY_MAP_DATA	673880000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	823651
+SHUFFLE	COMPRESS_BYTE_COUNT	245355
+SHUFFLE	COPY_MAP_DATA	30993000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	818518
+SHUFFLE	COMPRESS_BYTE_COUNT	247372
+SHUFFLE	COPY_MAP_DATA	15377000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	765166
+SHUFFLE	COMPRESS_BYTE_COUNT	234318
+SHUFFLE	COPY_MAP_DATA	75088000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	800991
+SHUFFLE	COMPRESS_BYTE_COUNT	240524
+SHUFFLE	COPY_MAP_DATA	172182000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	864778
+SHUFFLE	COMPRESS_BYTE_COUNT	261466
+SHUFFLE	COPY_MAP_DATA	15674000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	912147
+SHUFFLE	COMPRESS_BYTE_COUNT	268352
+SHUFFLE	COPY_MAP_DATA	1318906000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	796168
+SHUFFLE	COMPRESS_BYTE_COUNT	236098
+SHUFFLE	COPY_MAP_DATA	35794000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	868051
+SHUFFLE	COMPRESS_BYTE_COUNT	268368
+SHUFFLE	COPY_MAP_DATA	20650000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	796948
+SHUFFLE	COMPRESS_BYTE_COUNT	232816
+SHUFFLE	COPY_MAP_DATA	24566000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	940676
+SHUFFLE	COMPRESS_BYTE_COUNT	279682
+SHUFFLE	COPY_MAP_DATA	53836000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	928372
+SHUFFLE	COMPRESS_BYTE_COUNT	262575
+SHUFFLE	COPY_MAP_DATA	436999000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	792419
+SHUFFLE	COMPRESS_BYTE_COUNT	230875
+SHUFFLE	COPY_MAP_DATA	13390000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	809676
+SHUFFLE	COMPRESS_BYTE_COUNT	246687
+SHUFFLE	COPY_MAP_DATA	282859000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	803133
+SHUFFLE	COMPRESS_BYTE_COUNT	244292
+SHUFFLE	COPY_MAP_DATA	217644000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	815206
+SHUFFLE	COMPRESS_BYTE_COUNT	239311
+SHUFFLE	COPY_MAP_DATA	19658000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	805852
+SHUFFLE	COMPRESS_BYTE_COUNT	241934
+SHUFFLE	COPY_MAP_DATA	15216000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	839759
+SHUFFLE	COMPRESS_BYTE_COUNT	248968
+SHUFFLE	COPY_MAP_DATA	139985000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	802181
+SHUFFLE	COMPRESS_BYTE_COUNT	226986
+SHUFFLE	COPY_MAP_DATA	37009000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1048512
+SHUFFLE	COMPRESS_BYTE_COUNT	341953
+SHUFFLE	COPY_MAP_DATA	498516000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	817263
+SHUFFLE	COMPRESS_BYTE_COUNT	240309
+SHUFFLE	COPY_MAP_DATA	19624000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	810401
+SHUFFLE	COMPRESS_BYTE_COUNT	236970
+SHUFFLE	COPY_MAP_DATA	16396000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	855194
+SHUFFLE	COMPRESS_BYTE_COUNT	250095
+SHUFFLE	COPY_MAP_DATA	97266000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	803882
+SHUFFLE	COMPRESS_BYTE_COUNT	233558
+SHUFFLE	COPY_MAP_DATA	33160000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	821068
+SHUFFLE	COMPRESS_BYTE_COUNT	238979
+SHUFFLE	COPY_MAP_DATA	47784000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	775695
+SHUFFLE	COMPRESS_BYTE_COUNT	232225
+SHUFFLE	COPY_MAP_DATA	18203000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	958161
+SHUFFLE	COMPRESS_BYTE_COUNT	261167
+SHUFFLE	COPY_MAP_DATA	310385000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1229272
+SHUFFLE	COMPRESS_BYTE_COUNT	275202
+SHUFFLE	COPY_MAP_DATA	193537000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	812028
+SHUFFLE	COMPRESS_BYTE_COUNT	229463
+SHUFFLE	COPY_MAP_DATA	219293000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	876394
+SHUFFLE	COMPRESS_BYTE_COUNT	263142
+SHUFFLE	COPY_MAP_DATA	48959000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	899939
+SHUFFLE	COMPRESS_BYTE_COUNT	262744
+SHUFFLE	COPY_MAP_DATA	33746000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	899467
+SHUFFLE	COMPRESS_BYTE_COUNT	263896
+SHUFFLE	COPY_MAP_DATA	36013000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	775298
+SHUFFLE	COMPRESS_BYTE_COUNT	231881
+SHUFFLE	COPY_MAP_DATA	35033000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	870439
+SHUFFLE	COMPRESS_BYTE_COUNT	256425
+SHUFFLE	COPY_MAP_DATA	16749000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	799657
+SHUFFLE	COMPRESS_BYTE_COUNT	242407
+SHUFFLE	COPY_MAP_DATA	76159000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	770986
+SHUFFLE	COMPRESS_BYTE_COUNT	231019
+SHUFFLE	COPY_MAP_DATA	13356000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	820603
+SHUFFLE	COMPRESS_BYTE_COUNT	245478
+SHUFFLE	COPY_MAP_DATA	16314000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	839721
+SHUFFLE	COMPRESS_BYTE_COUNT	254797
+SHUFFLE	COPY_MAP_DATA	78135000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	844448
+SHUFFLE	COMPRESS_BYTE_COUNT	251356
+SHUFFLE	COPY_MAP_DATA	15366000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	954831
+SHUFFLE	COMPRESS_BYTE_COUNT	266374
+SHUFFLE	COPY_MAP_DATA	16491000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	904729
+SHUFFLE	COMPRESS_BYTE_COUNT	267682
+SHUFFLE	COPY_MAP_DATA	35310000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	866905
+SHUFFLE	COMPRESS_BYTE_COUNT	246900
+SHUFFLE	COPY_MAP_DATA	145886000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	841021
+SHUFFLE	COMPRESS_BYTE_COUNT	245245
+SHUFFLE	COPY_MAP_DATA	6831847000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	788770
+SHUFFLE	COMPRESS_BYTE_COUNT	239335
+SHUFFLE	COPY_MAP_DATA	15616000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	767065
+SHUFFLE	COMPRESS_BYTE_COUNT	231666
+SHUFFLE	COPY_MAP_DATA	133210000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	898264
+SHUFFLE	COMPRESS_BYTE_COUNT	256757
+SHUFFLE	COPY_MAP_DATA	17964000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	831186
+SHUFFLE	COMPRESS_BYTE_COUNT	255306
+SHUFFLE	COPY_MAP_DATA	34087000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	722486
+SHUFFLE	COMPRESS_BYTE_COUNT	217493
+SHUFFLE	COPY_MAP_DATA	105242000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1106301
+SHUFFLE	COMPRESS_BYTE_COUNT	323688
+SHUFFLE	COPY_MAP_DATA	27499000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	728356
+SHUFFLE	COMPRESS_BYTE_COUNT	212340
+SHUFFLE	COPY_MAP_DATA	12151000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	594644
+SHUFFLE	COMPRESS_BYTE_COUNT	162462
+SHUFFLE	COPY_MAP_DATA	28321000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	956308
+SHUFFLE	COMPRESS_BYTE_COUNT	266426
+SHUFFLE	COPY_MAP_DATA	83238000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	740186
+SHUFFLE	COMPRESS_BYTE_COUNT	226943
+SHUFFLE	COPY_MAP_DATA	13959000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	907308
+SHUFFLE	COMPRESS_BYTE_COUNT	267528
+SHUFFLE	COPY_MAP_DATA	35869000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	787598
+SHUFFLE	COMPRESS_BYTE_COUNT	241799
+SHUFFLE	COPY_MAP_DATA	14437000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	770986
+SHUFFLE	COMPRESS_BYTE_COUNT	231019
+SHUFFLE	COPY_MAP_DATA	14332000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	905410
+SHUFFLE	COMPRESS_BYTE_COUNT	258289
+SHUFFLE	COPY_MAP_DATA	16480000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	981426
+SHUFFLE	COMPRESS_BYTE_COUNT	292848
+SHUFFLE	COPY_MAP_DATA	16575000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	836409
+SHUFFLE	COMPRESS_BYTE_COUNT	242383
+SHUFFLE	COPY_MAP_DATA	12730000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	895053
+SHUFFLE	COMPRESS_BYTE_COUNT	263200
+SHUFFLE	COPY_MAP_DATA	16866000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	540587
+SHUFFLE	COMPRESS_BYTE_COUNT	117174
+SHUFFLE	COPY_MAP_DATA	12472000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	691323
+SHUFFLE	COMPRESS_BYTE_COUNT	209477
+SHUFFLE	COPY_MAP_DATA	18559000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	766050
+SHUFFLE	COMPRESS_BYTE_COUNT	225632
+SHUFFLE	COPY_MAP_DATA	87901000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	810727
+SHUFFLE	COMPRESS_BYTE_COUNT	250399
+SHUFFLE	COPY_MAP_DATA	18868000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	733798
+SHUFFLE	COMPRESS_BYTE_COUNT	226388
+SHUFFLE	COPY_MAP_DATA	15267000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	743565
+SHUFFLE	COMPRESS_BYTE_COUNT	224117
+SHUFFLE	COPY_MAP_DATA	29903000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	819510
+SHUFFLE	COMPRESS_BYTE_COUNT	240693
+SHUFFLE	COPY_MAP_DATA	14425000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	883396
+SHUFFLE	COMPRESS_BYTE_COUNT	287254
+SHUFFLE	COPY_MAP_DATA	33808000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	970551
+SHUFFLE	COMPRESS_BYTE_COUNT	314455
+SHUFFLE	COPY_MAP_DATA	24415000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	826007
+SHUFFLE	COMPRESS_BYTE_COUNT	243269
+SHUFFLE	COPY_MAP_DATA	14685000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	790950
+SHUFFLE	COMPRESS_BYTE_COUNT	251715
+SHUFFLE	COPY_MAP_DATA	143744000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	257595388666
+MERGE	READ_WRITE	255752625666
+MERGE	READ_WRITE_COUNT	3
+MERGE	COMBINE	0
+MERGE	WRITE	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	14000743000
+SORT	READ_WRITE	13838795000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	268782256
+REDUCE	SETUP	369000
+REDUCE	SETUP_MEM	268782256
+REDUCE	CLEANUP	58000
+REDUCE	CLEANUP_MEM	268340272
+REDUCE	TOTAL_RUN	153142366480
+REDUCE	READ	12246884000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	131811448480
+REDUCE	WRITE	62401228480
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	73818644
+REDUCE	VALUE_BYTE_COUNT	66746558
+REDUCE	REDUCE_MEM	268342320
+REDUCE	WRITE	11588000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	799068545297
@@ -0,0 +1,1333 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1907806
+SHUFFLE	COMPRESS_BYTE_COUNT	555393
+SHUFFLE	COPY_MAP_DATA	67528000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1896870
+SHUFFLE	COMPRESS_BYTE_COUNT	567762
+SHUFFLE	COPY_MAP_DATA	94057000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1939473
+SHUFFLE	COMPRESS_BYTE_COUNT	545972
+SHUFFLE	COPY_MAP_DATA	39178000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1823188
+SHUFFLE	COMPRESS_BYTE_COUNT	514110
+SHUFFLE	COPY_MAP_DATA	33384000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1885140
+SHUFFLE	COMPRESS_BYTE_COUNT	533183
+SHUFFLE	COPY_MAP_DATA	146548000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1811871
+SHUFFLE	COMPRESS_BYTE_COUNT	550380
+SHUFFLE	COPY_MAP_DATA	233537000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1897806
+SHUFFLE	COMPRESS_BYTE_COUNT	546178
+SHUFFLE	COPY_MAP_DATA	234093000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1847827
+SHUFFLE	COMPRESS_BYTE_COUNT	544941
+SHUFFLE	COPY_MAP_DATA	34026000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1750020
+SHUFFLE	COMPRESS_BYTE_COUNT	538146
+SHUFFLE	COPY_MAP_DATA	32124000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1832671
+SHUFFLE	COMPRESS_BYTE_COUNT	550222
+SHUFFLE	COPY_MAP_DATA	100157000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1943916
+SHUFFLE	COMPRESS_BYTE_COUNT	569286
+SHUFFLE	COPY_MAP_DATA	53441000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1904144
+SHUFFLE	COMPRESS_BYTE_COUNT	553143
+SHUFFLE	COPY_MAP_DATA	298145000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1723810
+SHUFFLE	COMPRESS_BYTE_COUNT	456446
+SHUFFLE	COPY_MAP_DATA	98017000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1568100
+SHUFFLE	COMPRESS_BYTE_COUNT	450401
+SHUFFLE	COPY_MAP_DATA	24735000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1888741
+SHUFFLE	COMPRESS_BYTE_COUNT	547543
+SHUFFLE	COPY_MAP_DATA	71797000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1945992
+SHUFFLE	COMPRESS_BYTE_COUNT	555529
+SHUFFLE	COPY_MAP_DATA	31971000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1946055
+SHUFFLE	COMPRESS_BYTE_COUNT	543558
+SHUFFLE	COPY_MAP_DATA	33303000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1870131
+SHUFFLE	COMPRESS_BYTE_COUNT	557831
+SHUFFLE	COPY_MAP_DATA	69500000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1857545
+SHUFFLE	COMPRESS_BYTE_COUNT	554947
+SHUFFLE	COPY_MAP_DATA	33967000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1876142
+SHUFFLE	COMPRESS_BYTE_COUNT	558034
+SHUFFLE	COPY_MAP_DATA	35552000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1874423
+SHUFFLE	COMPRESS_BYTE_COUNT	550340
+SHUFFLE	COPY_MAP_DATA	29914000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1831522
+SHUFFLE	COMPRESS_BYTE_COUNT	559120
+SHUFFLE	COPY_MAP_DATA	124144000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2008905
+SHUFFLE	COMPRESS_BYTE_COUNT	552644
+SHUFFLE	COPY_MAP_DATA	71111000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1933106
+SHUFFLE	COMPRESS_BYTE_COUNT	540252
+SHUFFLE	COPY_MAP_DATA	58988000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1807053
+SHUFFLE	COMPRESS_BYTE_COUNT	546093
+SHUFFLE	COPY_MAP_DATA	28342000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1865155
+SHUFFLE	COMPRESS_BYTE_COUNT	557271
+SHUFFLE	COPY_MAP_DATA	79598000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1924986
+SHUFFLE	COMPRESS_BYTE_COUNT	557340
+SHUFFLE	COPY_MAP_DATA	540142000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1947598
+SHUFFLE	COMPRESS_BYTE_COUNT	530998
+SHUFFLE	COPY_MAP_DATA	88679000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1663400
+SHUFFLE	COMPRESS_BYTE_COUNT	468396
+SHUFFLE	COPY_MAP_DATA	49261000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2046742
+SHUFFLE	COMPRESS_BYTE_COUNT	569199
+SHUFFLE	COPY_MAP_DATA	69896000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1703945
+SHUFFLE	COMPRESS_BYTE_COUNT	518355
+SHUFFLE	COPY_MAP_DATA	1412533000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1774647
+SHUFFLE	COMPRESS_BYTE_COUNT	546349
+SHUFFLE	COPY_MAP_DATA	29815000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1769112
+SHUFFLE	COMPRESS_BYTE_COUNT	539329
+SHUFFLE	COPY_MAP_DATA	157269000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1875816
+SHUFFLE	COMPRESS_BYTE_COUNT	558579
+SHUFFLE	COPY_MAP_DATA	88589000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1867726
+SHUFFLE	COMPRESS_BYTE_COUNT	551902
+SHUFFLE	COPY_MAP_DATA	120238000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1725786
+SHUFFLE	COMPRESS_BYTE_COUNT	527705
+SHUFFLE	COPY_MAP_DATA	44507000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1713268
+SHUFFLE	COMPRESS_BYTE_COUNT	521368
+SHUFFLE	COPY_MAP_DATA	43549000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1611638
+SHUFFLE	COMPRESS_BYTE_COUNT	426073
+SHUFFLE	COPY_MAP_DATA	53379000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1770992
+SHUFFLE	COMPRESS_BYTE_COUNT	539961
+SHUFFLE	COPY_MAP_DATA	28065000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1898161
+SHUFFLE	COMPRESS_BYTE_COUNT	560064
+SHUFFLE	COPY_MAP_DATA	29603000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1507043
+SHUFFLE	COMPRESS_BYTE_COUNT	451688
+SHUFFLE	COPY_MAP_DATA	24692000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1843168
+SHUFFLE	COMPRESS_BYTE_COUNT	548982
+SHUFFLE	COPY_MAP_DATA	38015000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1567446
+SHUFFLE	COMPRESS_BYTE_COUNT	478892
+SHUFFLE	COPY_MAP_DATA	30930000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1823262
+SHUFFLE	COMPRESS_BYTE_COUNT	543904
+SHUFFLE	COPY_MAP_DATA	3604699000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1680080
+SHUFFLE	COMPRESS_BYTE_COUNT	518693
+SHUFFLE	COPY_MAP_DATA	2284995000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1732582
+SHUFFLE	COMPRESS_BYTE_COUNT	526456
+SHUFFLE	COPY_MAP_DATA	32134000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1586509
+SHUFFLE	COMPRESS_BYTE_COUNT	471891
+SHUFFLE	COPY_MAP_DATA	137259000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1675251
+SHUFFLE	COMPRESS_BYTE_COUNT	523332
+SHUFFLE	COPY_MAP_DATA	27355000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1759580
+SHUFFLE	COMPRESS_BYTE_COUNT	539107
+SHUFFLE	COPY_MAP_DATA	27342000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1814708
+SHUFFLE	COMPRESS_BYTE_COUNT	528061
+SHUFFLE	COPY_MAP_DATA	376757000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1728830
+SHUFFLE	COMPRESS_BYTE_COUNT	501943
+SHUFFLE	COPY_MAP_DATA	27715000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1632440
+SHUFFLE	COMPRESS_BYTE_COUNT	476777
+SHUFFLE	COPY_MAP_DATA	24695000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1737229
+SHUFFLE	COMPRESS_BYTE_COUNT	532620
+SHUFFLE	COPY_MAP_DATA	26979000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1674461
+SHUFFLE	COMPRESS_BYTE_COUNT	492139
+SHUFFLE	COPY_MAP_DATA	26333000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1789731
+SHUFFLE	COMPRESS_BYTE_COUNT	526826
+SHUFFLE	COPY_MAP_DATA	28159000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1721736
+SHUFFLE	COMPRESS_BYTE_COUNT	534486
+SHUFFLE	COPY_MAP_DATA	34518000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1844682
+SHUFFLE	COMPRESS_BYTE_COUNT	536965
+SHUFFLE	COPY_MAP_DATA	104156000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1825959
+SHUFFLE	COMPRESS_BYTE_COUNT	541973
+SHUFFLE	COPY_MAP_DATA	109719000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1705696
+SHUFFLE	COMPRESS_BYTE_COUNT	512995
+SHUFFLE	COPY_MAP_DATA	98017000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1618373
+SHUFFLE	COMPRESS_BYTE_COUNT	506293
+SHUFFLE	COPY_MAP_DATA	170555000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1582259
+SHUFFLE	COMPRESS_BYTE_COUNT	476089
+SHUFFLE	COPY_MAP_DATA	69965000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1620670
+SHUFFLE	COMPRESS_BYTE_COUNT	476016
+SHUFFLE	COPY_MAP_DATA	41394000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1545897
+SHUFFLE	COMPRESS_BYTE_COUNT	464651
+SHUFFLE	COPY_MAP_DATA	69733000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1576766
+SHUFFLE	COMPRESS_BYTE_COUNT	470867
+SHUFFLE	COPY_MAP_DATA	26148000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1682508
+SHUFFLE	COMPRESS_BYTE_COUNT	481189
+SHUFFLE	COPY_MAP_DATA	25726000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1697997
+SHUFFLE	COMPRESS_BYTE_COUNT	510788
+SHUFFLE	COPY_MAP_DATA	42061000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1488515
+SHUFFLE	COMPRESS_BYTE_COUNT	436821
+SHUFFLE	COPY_MAP_DATA	40866000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1533860
+SHUFFLE	COMPRESS_BYTE_COUNT	452075
+SHUFFLE	COPY_MAP_DATA	161343000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1581445
+SHUFFLE	COMPRESS_BYTE_COUNT	465348
+SHUFFLE	COPY_MAP_DATA	33246000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1465111
+SHUFFLE	COMPRESS_BYTE_COUNT	433456
+SHUFFLE	COPY_MAP_DATA	131937000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1956789
+SHUFFLE	COMPRESS_BYTE_COUNT	582180
+SHUFFLE	COPY_MAP_DATA	153264000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1700343
+SHUFFLE	COMPRESS_BYTE_COUNT	475050
+SHUFFLE	COPY_MAP_DATA	25727000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1612937
+SHUFFLE	COMPRESS_BYTE_COUNT	474000
+SHUFFLE	COPY_MAP_DATA	68651000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1517712
+SHUFFLE	COMPRESS_BYTE_COUNT	448987
+SHUFFLE	COPY_MAP_DATA	360270000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1571416
+SHUFFLE	COMPRESS_BYTE_COUNT	453101
+SHUFFLE	COPY_MAP_DATA	24418000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1518789
+SHUFFLE	COMPRESS_BYTE_COUNT	456302
+SHUFFLE	COPY_MAP_DATA	164817000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1730974
+SHUFFLE	COMPRESS_BYTE_COUNT	514484
+SHUFFLE	COPY_MAP_DATA	27659000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1551200
+SHUFFLE	COMPRESS_BYTE_COUNT	449792
+SHUFFLE	COPY_MAP_DATA	180865000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1594509
+SHUFFLE	COMPRESS_BYTE_COUNT	472249
+SHUFFLE	COPY_MAP_DATA	25791000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1614232
+SHUFFLE	COMPRESS_BYTE_COUNT	478288
+SHUFFLE	COPY_MAP_DATA	25346000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1607380
+SHUFFLE	COMPRESS_BYTE_COUNT	466249
+SHUFFLE	COPY_MAP_DATA	2898476000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1795760
+SHUFFLE	COMPRESS_BYTE_COUNT	565567
+SHUFFLE	COPY_MAP_DATA	30292000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1611468
+SHUFFLE	COMPRESS_BYTE_COUNT	469833
+SHUFFLE	COPY_MAP_DATA	2249767000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1643896
+SHUFFLE	COMPRESS_BYTE_COUNT	473996
+SHUFFLE	COPY_MAP_DATA	321542000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1604155
+SHUFFLE	COMPRESS_BYTE_COUNT	470023
+SHUFFLE	COPY_MAP_DATA	74023000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1715813
+SHUFFLE	COMPRESS_BYTE_COUNT	517217
+SHUFFLE	COPY_MAP_DATA	1226567000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1706083
+SHUFFLE	COMPRESS_BYTE_COUNT	536096
+SHUFFLE	COPY_MAP_DATA	33636000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1420504
+SHUFFLE	COMPRESS_BYTE_COUNT	428957
+SHUFFLE	COPY_MAP_DATA	1659910000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	797997
+SHUFFLE	COMPRESS_BYTE_COUNT	230924
+SHUFFLE	COPY_MAP_DATA	278634000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1488967
+SHUFFLE	COMPRESS_BYTE_COUNT	433699
+SHUFFLE	COPY_MAP_DATA	154388000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1551785
+SHUFFLE	COMPRESS_BYTE_COUNT	447443
+SHUFFLE	COPY_MAP_DATA	52316000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	925815
+SHUFFLE	COMPRESS_BYTE_COUNT	256173
+SHUFFLE	COPY_MAP_DATA	960777000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	798269
+SHUFFLE	COMPRESS_BYTE_COUNT	238867
+SHUFFLE	COPY_MAP_DATA	24406000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	865133
+SHUFFLE	COMPRESS_BYTE_COUNT	257538
+SHUFFLE	COPY_MAP_DATA	1225080000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	961338
+SHUFFLE	COMPRESS_BYTE_COUNT	287039
+SHUFFLE	COPY_MAP_DATA	916947000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1458308
+SHUFFLE	COMPRESS_BYTE_COUNT	446299
+SHUFFLE	COPY_MAP_DATA	32759000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	757507
+SHUFFLE	COMPRESS_BYTE_COUNT	229691
+SHUFFLE	COPY_MAP_DATA	14093000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1743441
+SHUFFLE	COMPRESS_BYTE_COUNT	464595
+SHUFFLE	COPY_MAP_DATA	98950000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	810595
+SHUFFLE	COMPRESS_BYTE_COUNT	236911
+SHUFFLE	COPY_MAP_DATA	15344000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1436723
+SHUFFLE	COMPRESS_BYTE_COUNT	418515
+SHUFFLE	COPY_MAP_DATA	43042000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1582247
+SHUFFLE	COMPRESS_BYTE_COUNT	466038
+SHUFFLE	COPY_MAP_DATA	26293000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1532519
+SHUFFLE	COMPRESS_BYTE_COUNT	450974
+SHUFFLE	COPY_MAP_DATA	24586000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1395444
+SHUFFLE	COMPRESS_BYTE_COUNT	413907
+SHUFFLE	COPY_MAP_DATA	9024869000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1642919
+SHUFFLE	COMPRESS_BYTE_COUNT	485692
+SHUFFLE	COPY_MAP_DATA	25926000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1504969
+SHUFFLE	COMPRESS_BYTE_COUNT	443904
+SHUFFLE	COPY_MAP_DATA	23780000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	995310
+SHUFFLE	COMPRESS_BYTE_COUNT	289279
+SHUFFLE	COPY_MAP_DATA	157005000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1507098
+SHUFFLE	COMPRESS_BYTE_COUNT	433588
+SHUFFLE	COPY_MAP_DATA	23792000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1677765
+SHUFFLE	COMPRESS_BYTE_COUNT	527028
+SHUFFLE	COPY_MAP_DATA	171915000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	935009
+SHUFFLE	COMPRESS_BYTE_COUNT	281763
+SHUFFLE	COPY_MAP_DATA	25559000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1726913
+SHUFFLE	COMPRESS_BYTE_COUNT	510813
+SHUFFLE	COPY_MAP_DATA	33814000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1034080
+SHUFFLE	COMPRESS_BYTE_COUNT	288892
+SHUFFLE	COPY_MAP_DATA	16726000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	913520
+SHUFFLE	COMPRESS_BYTE_COUNT	273446
+SHUFFLE	COPY_MAP_DATA	104230000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1558258
+SHUFFLE	COMPRESS_BYTE_COUNT	345506
+SHUFFLE	COPY_MAP_DATA	144815000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1625116
+SHUFFLE	COMPRESS_BYTE_COUNT	465366
+SHUFFLE	COPY_MAP_DATA	26369000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1639408
+SHUFFLE	COMPRESS_BYTE_COUNT	470702
+SHUFFLE	COPY_MAP_DATA	27912000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1544901
+SHUFFLE	COMPRESS_BYTE_COUNT	484188
+SHUFFLE	COPY_MAP_DATA	179944000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	923804
+SHUFFLE	COMPRESS_BYTE_COUNT	275967
+SHUFFLE	COPY_MAP_DATA	16912000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1756904
+SHUFFLE	COMPRESS_BYTE_COUNT	525050
+SHUFFLE	COPY_MAP_DATA	2545545000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	981565
+SHUFFLE	COMPRESS_BYTE_COUNT	290214
+SHUFFLE	COPY_MAP_DATA	19539000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1725706
+SHUFFLE	COMPRESS_BYTE_COUNT	460942
+SHUFFLE	COPY_MAP_DATA	25526000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1653292
+SHUFFLE	COMPRESS_BYTE_COUNT	478776
+SHUFFLE	COPY_MAP_DATA	26027000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	941638
+SHUFFLE	COMPRESS_BYTE_COUNT	284792
+SHUFFLE	COPY_MAP_DATA	43119000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	917809
+SHUFFLE	COMPRESS_BYTE_COUNT	288083
+SHUFFLE	COPY_MAP_DATA	833783000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	995731
+SHUFFLE	COMPRESS_BYTE_COUNT	296831
+SHUFFLE	COPY_MAP_DATA	404210000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	948137
+SHUFFLE	COMPRESS_BYTE_COUNT	288875
+SHUFFLE	COPY_MAP_DATA	102727000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	984579
+SHUFFLE	COMPRESS_BYTE_COUNT	297261
+SHUFFLE	COPY_MAP_DATA	510575000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	888181
+SHUFFLE	COMPRESS_BYTE_COUNT	258195
+SHUFFLE	COPY_MAP_DATA	681334000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	983372
+SHUFFLE	COMPRESS_BYTE_COUNT	290618
+SHUFFLE	COPY_MAP_DATA	16235000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	939955
+SHUFFLE	COMPRESS_BYTE_COUNT	285670
+SHUFFLE	COPY_MAP_DATA	195224000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	950747
+SHUFFLE	COMPRESS_BYTE_COUNT	286157
+SHUFFLE	COPY_MAP_DATA	1360930000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	948788
+SHUFFLE	COMPRESS_BYTE_COUNT	287577
+SHUFFLE	COPY_MAP_DATA	21019000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	924657
+SHUFFLE	COMPRESS_BYTE_COUNT	289752
+SHUFFLE	COPY_MAP_DATA	3686016000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	950326
+SHUFFLE	COMPRESS_BYTE_COUNT	286729
+SHUFFLE	COPY_MAP_DATA	6314956000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	959671
+SHUFFLE	COMPRESS_BYTE_COUNT	293389
+SHUFFLE	COPY_MAP_DATA	222106000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	957910
+SHUFFLE	COMPRESS_BYTE_COUNT	286608
+SHUFFLE	COPY_MAP_DATA	17100000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	926717
+SHUFFLE	COMPRESS_BYTE_COUNT	284697
+SHUFFLE	COPY_MAP_DATA	128631000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1038011
+SHUFFLE	COMPRESS_BYTE_COUNT	289561
+SHUFFLE	COPY_MAP_DATA	16263000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	970896
+SHUFFLE	COMPRESS_BYTE_COUNT	289070
+SHUFFLE	COPY_MAP_DATA	15704000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	930020
+SHUFFLE	COMPRESS_BYTE_COUNT	282204
+SHUFFLE	COPY_MAP_DATA	50868000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	983350
+SHUFFLE	COMPRESS_BYTE_COUNT	300343
+SHUFFLE	COPY_MAP_DATA	27255000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	947708
+SHUFFLE	COMPRESS_BYTE_COUNT	292603
+SHUFFLE	COPY_MAP_DATA	16516000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	944086
+SHUFFLE	COMPRESS_BYTE_COUNT	291688
+SHUFFLE	COPY_MAP_DATA	1040505000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	957862
+SHUFFLE	COMPRESS_BYTE_COUNT	295600
+SHUFFLE	COPY_MAP_DATA	37671000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	942287
+SHUFFLE	COMPRESS_BYTE_COUNT	292744
+SHUFFLE	COPY_MAP_DATA	69875000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	899685
+SHUFFLE	COMPRESS_BYTE_COUNT	283866
+SHUFFLE	COPY_MAP_DATA	75628000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	959339
+SHUFFLE	COMPRESS_BYTE_COUNT	298583
+SHUFFLE	COPY_MAP_DATA	23895000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1051013
+SHUFFLE	COMPRESS_BYTE_COUNT	301615
+SHUFFLE	COPY_MAP_DATA	16865000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	954981
+SHUFFLE	COMPRESS_BYTE_COUNT	294250
+SHUFFLE	COPY_MAP_DATA	34291000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	938740
+SHUFFLE	COMPRESS_BYTE_COUNT	287323
+SHUFFLE	COPY_MAP_DATA	17052000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	887670
+SHUFFLE	COMPRESS_BYTE_COUNT	272635
+SHUFFLE	COPY_MAP_DATA	25749000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	926664
+SHUFFLE	COMPRESS_BYTE_COUNT	289317
+SHUFFLE	COPY_MAP_DATA	42869000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	977482
+SHUFFLE	COMPRESS_BYTE_COUNT	287551
+SHUFFLE	COPY_MAP_DATA	16589000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	947482
+SHUFFLE	COMPRESS_BYTE_COUNT	286442
+SHUFFLE	COPY_MAP_DATA	16725000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	941891
+SHUFFLE	COMPRESS_BYTE_COUNT	297629
+SHUFFLE	COPY_MAP_DATA	16689000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	923298
+SHUFFLE	COMPRESS_BYTE_COUNT	291265
+SHUFFLE	COPY_MAP_DATA	17076000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	873911
+SHUFFLE	COMPRESS_BYTE_COUNT	283427
+SHUFFLE	COPY_MAP_DATA	54172000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	949736
+SHUFFLE	COMPRESS_BYTE_COUNT	277091
+SHUFFLE	COPY_MAP_DATA	16347000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	913680
+SHUFFLE	COMPRESS_BYTE_COUNT	260272
+SHUFFLE	COPY_MAP_DATA	41336000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	917685
+SHUFFLE	COMPRESS_BYTE_COUNT	291254
+SHUFFLE	COPY_MAP_DATA	16121000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	896899
+SHUFFLE	COMPRESS_BYTE_COUNT	287006
+SHUFFLE	COPY_MAP_DATA	22083000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	916170
+SHUFFLE	COMPRESS_BYTE_COUNT	283571
+SHUFFLE	COPY_MAP_DATA	128435000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	940474
+SHUFFLE	COMPRESS_BYTE_COUNT	296997
+SHUFFLE	COPY_MAP_DATA	251621000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	870501
+SHUFFLE	COMPRESS_BYTE_COUNT	275235
+SHUFFLE	COPY_MAP_DATA	37801000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	965342
+SHUFFLE	COMPRESS_BYTE_COUNT	288685
+SHUFFLE	COPY_MAP_DATA	23722000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	922870
+SHUFFLE	COMPRESS_BYTE_COUNT	290410
+SHUFFLE	COPY_MAP_DATA	33560000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	973506
+SHUFFLE	COMPRESS_BYTE_COUNT	296019
+SHUFFLE	COPY_MAP_DATA	48769000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	930420
+SHUFFLE	COMPRESS_BYTE_COUNT	292406
+SHUFFLE	COPY_MAP_DATA	36036000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	909375
+SHUFFLE	COMPRESS_BYTE_COUNT	281009
+SHUFFLE	COPY_MAP_DATA	26006000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	958459
+SHUFFLE	COMPRESS_BYTE_COUNT	290299
+SHUFFLE	COPY_MAP_DATA	2805941000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	980652
+SHUFFLE	COMPRESS_BYTE_COUNT	292085
+SHUFFLE	COPY_MAP_DATA	16380000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	874710
+SHUFFLE	COMPRESS_BYTE_COUNT	280590
+SHUFFLE	COPY_MAP_DATA	934079000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	945398
+SHUFFLE	COMPRESS_BYTE_COUNT	290488
+SHUFFLE	COPY_MAP_DATA	158482000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	891050
+SHUFFLE	COMPRESS_BYTE_COUNT	286228
+SHUFFLE	COPY_MAP_DATA	16875000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	926047
+SHUFFLE	COMPRESS_BYTE_COUNT	290276
+SHUFFLE	COPY_MAP_DATA	16739000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	938291
+SHUFFLE	COMPRESS_BYTE_COUNT	297626
+SHUFFLE	COPY_MAP_DATA	17582000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	937962
+SHUFFLE	COMPRESS_BYTE_COUNT	288497
+SHUFFLE	COPY_MAP_DATA	16204000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	928988
+SHUFFLE	COMPRESS_BYTE_COUNT	286667
+SHUFFLE	COPY_MAP_DATA	209004000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	925244
+SHUFFLE	COMPRESS_BYTE_COUNT	293474
+SHUFFLE	COPY_MAP_DATA	16073000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	847412
+SHUFFLE	COMPRESS_BYTE_COUNT	271105
+SHUFFLE	COPY_MAP_DATA	30363000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	918473
+SHUFFLE	COMPRESS_BYTE_COUNT	289694
+SHUFFLE	COPY_MAP_DATA	15694000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	888582
+SHUFFLE	COMPRESS_BYTE_COUNT	280016
+SHUFFLE	COPY_MAP_DATA	26632000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	907094
+SHUFFLE	COMPRESS_BYTE_COUNT	283686
+SHUFFLE	COPY_MAP_DATA	16499000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	886071
+SHUFFLE	COMPRESS_BYTE_COUNT	277987
+SHUFFLE	COPY_MAP_DATA	15246000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	858855
+SHUFFLE	COMPRESS_BYTE_COUNT	275498
+SHUFFLE	COPY_MAP_DATA	62074000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	869124
+SHUFFLE	COMPRESS_BYTE_COUNT	278408
+SHUFFLE	COPY_MAP_DATA	613063000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	838283
+SHUFFLE	COMPRESS_BYTE_COUNT	268953
+SHUFFLE	COPY_MAP_DATA	54245000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	862683
+SHUFFLE	COMPRESS_BYTE_COUNT	273741
+SHUFFLE	COPY_MAP_DATA	15340000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	833446
+SHUFFLE	COMPRESS_BYTE_COUNT	264832
+SHUFFLE	COPY_MAP_DATA	14347000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	957099
+SHUFFLE	COMPRESS_BYTE_COUNT	291891
+SHUFFLE	COPY_MAP_DATA	18128000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	872272
+SHUFFLE	COMPRESS_BYTE_COUNT	277151
+SHUFFLE	COPY_MAP_DATA	16031000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	870478
+SHUFFLE	COMPRESS_BYTE_COUNT	280996
+SHUFFLE	COPY_MAP_DATA	15460000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	863460
+SHUFFLE	COMPRESS_BYTE_COUNT	269347
+SHUFFLE	COPY_MAP_DATA	15018000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	899939
+SHUFFLE	COMPRESS_BYTE_COUNT	289092
+SHUFFLE	COPY_MAP_DATA	56923000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	864305
+SHUFFLE	COMPRESS_BYTE_COUNT	269443
+SHUFFLE	COPY_MAP_DATA	15576000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	921702
+SHUFFLE	COMPRESS_BYTE_COUNT	289152
+SHUFFLE	COPY_MAP_DATA	29060000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	878267
+SHUFFLE	COMPRESS_BYTE_COUNT	283245
+SHUFFLE	COPY_MAP_DATA	15715000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	866753
+SHUFFLE	COMPRESS_BYTE_COUNT	273656
+SHUFFLE	COPY_MAP_DATA	15886000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	900442
+SHUFFLE	COMPRESS_BYTE_COUNT	283166
+SHUFFLE	COPY_MAP_DATA	15759000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	845750
+SHUFFLE	COMPRESS_BYTE_COUNT	268168
+SHUFFLE	COPY_MAP_DATA	266155000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	830735
+SHUFFLE	COMPRESS_BYTE_COUNT	261107
+SHUFFLE	COPY_MAP_DATA	3877288000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	853436
+SHUFFLE	COMPRESS_BYTE_COUNT	274738
+SHUFFLE	COPY_MAP_DATA	26470000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	841393
+SHUFFLE	COMPRESS_BYTE_COUNT	264357
+SHUFFLE	COPY_MAP_DATA	97345000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	859423
+SHUFFLE	COMPRESS_BYTE_COUNT	274157
+SHUFFLE	COPY_MAP_DATA	16307000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	850938
+SHUFFLE	COMPRESS_BYTE_COUNT	253262
+SHUFFLE	COPY_MAP_DATA	15324000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	787888
+SHUFFLE	COMPRESS_BYTE_COUNT	245276
+SHUFFLE	COPY_MAP_DATA	13068000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	921870
+SHUFFLE	COMPRESS_BYTE_COUNT	287543
+SHUFFLE	COPY_MAP_DATA	1175706000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	891167
+SHUFFLE	COMPRESS_BYTE_COUNT	285726
+SHUFFLE	COPY_MAP_DATA	23851000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	826646
+SHUFFLE	COMPRESS_BYTE_COUNT	263962
+SHUFFLE	COPY_MAP_DATA	109712000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	840998
+SHUFFLE	COMPRESS_BYTE_COUNT	264270
+SHUFFLE	COPY_MAP_DATA	16137000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	825346
+SHUFFLE	COMPRESS_BYTE_COUNT	264522
+SHUFFLE	COPY_MAP_DATA	964943000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	867863
+SHUFFLE	COMPRESS_BYTE_COUNT	259749
+SHUFFLE	COPY_MAP_DATA	14666000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	814033
+SHUFFLE	COMPRESS_BYTE_COUNT	251708
+SHUFFLE	COPY_MAP_DATA	15274000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	843471
+SHUFFLE	COMPRESS_BYTE_COUNT	271491
+SHUFFLE	COPY_MAP_DATA	52896000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	909891
+SHUFFLE	COMPRESS_BYTE_COUNT	284603
+SHUFFLE	COPY_MAP_DATA	140570000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	780092
+SHUFFLE	COMPRESS_BYTE_COUNT	258006
+SHUFFLE	COPY_MAP_DATA	177834000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	762754
+SHUFFLE	COMPRESS_BYTE_COUNT	238982
+SHUFFLE	COPY_MAP_DATA	1101531000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	862989
+SHUFFLE	COMPRESS_BYTE_COUNT	253134
+SHUFFLE	COPY_MAP_DATA	15069000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	833556
+SHUFFLE	COMPRESS_BYTE_COUNT	260290
+SHUFFLE	COPY_MAP_DATA	226818000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	934793
+SHUFFLE	COMPRESS_BYTE_COUNT	272416
+SHUFFLE	COPY_MAP_DATA	416627000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	786083
+SHUFFLE	COMPRESS_BYTE_COUNT	242927
+SHUFFLE	COPY_MAP_DATA	109757000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	815830
+SHUFFLE	COMPRESS_BYTE_COUNT	262763
+SHUFFLE	COPY_MAP_DATA	444513000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	817740
+SHUFFLE	COMPRESS_BYTE_COUNT	255940
+SHUFFLE	COPY_MAP_DATA	36759000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	814014
+SHUFFLE	COMPRESS_BYTE_COUNT	249101
+SHUFFLE	COPY_MAP_DATA	50240000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	796391
+SHUFFLE	COMPRESS_BYTE_COUNT	242454
+SHUFFLE	COPY_MAP_DATA	14340000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	993871
+SHUFFLE	COMPRESS_BYTE_COUNT	292564
+SHUFFLE	COPY_MAP_DATA	16053000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	820839
+SHUFFLE	COMPRESS_BYTE_COUNT	256651
+SHUFFLE	COPY_MAP_DATA	290250000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	857480
+SHUFFLE	COMPRESS_BYTE_COUNT	258687
+SHUFFLE	COPY_MAP_DATA	13940000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	870629
+SHUFFLE	COMPRESS_BYTE_COUNT	247563
+SHUFFLE	COPY_MAP_DATA	13778000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	772640
+SHUFFLE	COMPRESS_BYTE_COUNT	243091
+SHUFFLE	COPY_MAP_DATA	13801000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	807285
+SHUFFLE	COMPRESS_BYTE_COUNT	209060
+SHUFFLE	COPY_MAP_DATA	334668000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	877894
+SHUFFLE	COMPRESS_BYTE_COUNT	267284
+SHUFFLE	COPY_MAP_DATA	54643000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	727201
+SHUFFLE	COMPRESS_BYTE_COUNT	229817
+SHUFFLE	COPY_MAP_DATA	19710000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	867264
+SHUFFLE	COMPRESS_BYTE_COUNT	268882
+SHUFFLE	COPY_MAP_DATA	1469299000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	731128
+SHUFFLE	COMPRESS_BYTE_COUNT	226259
+SHUFFLE	COPY_MAP_DATA	1523824000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	777897
+SHUFFLE	COMPRESS_BYTE_COUNT	244368
+SHUFFLE	COPY_MAP_DATA	4128403000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	811881
+SHUFFLE	COMPRESS_BYTE_COUNT	250085
+SHUFFLE	COPY_MAP_DATA	58090000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	760743
+SHUFFLE	COMPRESS_BYTE_COUNT	232677
+SHUFFLE	COPY_MAP_DATA	195798000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	832856
+SHUFFLE	COMPRESS_BYTE_COUNT	252474
+SHUFFLE	COPY_MAP_DATA	1387767000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	800589
+SHUFFLE	COMPRESS_BYTE_COUNT	240354
+SHUFFLE	COPY_MAP_DATA	16421000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	817637
+SHUFFLE	COMPRESS_BYTE_COUNT	248651
+SHUFFLE	COPY_MAP_DATA	392567000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	759765
+SHUFFLE	COMPRESS_BYTE_COUNT	235274
+SHUFFLE	COPY_MAP_DATA	48891000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	753521
+SHUFFLE	COMPRESS_BYTE_COUNT	231083
+SHUFFLE	COPY_MAP_DATA	13496000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	821604
+SHUFFLE	COMPRESS_BYTE_COUNT	251452
+SHUFFLE	COPY_MAP_DATA	173818000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	818409
+SHUFFLE	COMPRESS_BYTE_COUNT	242031
+SHUFFLE	COPY_MAP_DATA	334665000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	905829
+SHUFFLE	COMPRESS_BYTE_COUNT	273036
+SHUFFLE	COPY_MAP_DATA	17567000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	725362
+SHUFFLE	COMPRESS_BYTE_COUNT	224465
+SHUFFLE	COPY_MAP_DATA	14016000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	733892
+SHUFFLE	COMPRESS_BYTE_COUNT	234086
+SHUFFLE	COPY_MAP_DATA	277922000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	786766
+SHUFFLE	COMPRESS_BYTE_COUNT	241735
+SHUFFLE	COPY_MAP_DATA	34652000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	770818
+SHUFFLE	COMPRESS_BYTE_COUNT	236649
+SHUFFLE	COPY_MAP_DATA	313717000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	824048
+SHUFFLE	COMPRESS_BYTE_COUNT	257224
+SHUFFLE	COPY_MAP_DATA	28166000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	825147
+SHUFFLE	COMPRESS_BYTE_COUNT	259590
+SHUFFLE	COPY_MAP_DATA	241602000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	785335
+SHUFFLE	COMPRESS_BYTE_COUNT	225235
+SHUFFLE	COPY_MAP_DATA	130614000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	827912
+SHUFFLE	COMPRESS_BYTE_COUNT	251373
+SHUFFLE	COPY_MAP_DATA	142637000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	786586
+SHUFFLE	COMPRESS_BYTE_COUNT	237764
+SHUFFLE	COPY_MAP_DATA	448845000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1196048
+SHUFFLE	COMPRESS_BYTE_COUNT	365779
+SHUFFLE	COPY_MAP_DATA	19327000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	729031
+SHUFFLE	COMPRESS_BYTE_COUNT	230060
+SHUFFLE	COPY_MAP_DATA	502427000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	732825
+SHUFFLE	COMPRESS_BYTE_COUNT	222581
+SHUFFLE	COPY_MAP_DATA	128117000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	765947
+SHUFFLE	COMPRESS_BYTE_COUNT	230149
+SHUFFLE	COPY_MAP_DATA	14232000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	732025
+SHUFFLE	COMPRESS_BYTE_COUNT	230564
+SHUFFLE	COPY_MAP_DATA	886416000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	757683
+SHUFFLE	COMPRESS_BYTE_COUNT	239365
+SHUFFLE	COPY_MAP_DATA	131497000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	867041
+SHUFFLE	COMPRESS_BYTE_COUNT	257730
+SHUFFLE	COPY_MAP_DATA	15479000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	864156
+SHUFFLE	COMPRESS_BYTE_COUNT	255230
+SHUFFLE	COPY_MAP_DATA	419838000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	763044
+SHUFFLE	COMPRESS_BYTE_COUNT	232002
+SHUFFLE	COPY_MAP_DATA	12874000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	759843
+SHUFFLE	COMPRESS_BYTE_COUNT	229748
+SHUFFLE	COPY_MAP_DATA	78643000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	766599
+SHUFFLE	COMPRESS_BYTE_COUNT	237497
+SHUFFLE	COPY_MAP_DATA	242416000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	844345
+SHUFFLE	COMPRESS_BYTE_COUNT	263421
+SHUFFLE	COPY_MAP_DATA	16595000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	911260
+SHUFFLE	COMPRESS_BYTE_COUNT	276418
+SHUFFLE	COPY_MAP_DATA	758769000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	758213
+SHUFFLE	COMPRESS_BYTE_COUNT	235429
+SHUFFLE	COPY_MAP_DATA	113272000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	731745
+SHUFFLE	COMPRESS_BYTE_COUNT	219427
+SHUFFLE	COPY_MAP_DATA	24661000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	786520
+SHUFFLE	COMPRESS_BYTE_COUNT	236907
+SHUFFLE	COPY_MAP_DATA	419167000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	747280
+SHUFFLE	COMPRESS_BYTE_COUNT	233763
+SHUFFLE	COPY_MAP_DATA	1236668000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	794610
+SHUFFLE	COMPRESS_BYTE_COUNT	239746
+SHUFFLE	COPY_MAP_DATA	607999000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	745898
+SHUFFLE	COMPRESS_BYTE_COUNT	233301
+SHUFFLE	COPY_MAP_DATA	116470000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	739023
+SHUFFLE	COMPRESS_BYTE_COUNT	225913
+SHUFFLE	COPY_MAP_DATA	15281000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	756144
+SHUFFLE	COMPRESS_BYTE_COUNT	227175
+SHUFFLE	COPY_MAP_DATA	495631000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	812390
+SHUFFLE	COMPRESS_BYTE_COUNT	243377
+SHUFFLE	COPY_MAP_DATA	37756000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	711592
+SHUFFLE	COMPRESS_BYTE_COUNT	217188
+SHUFFLE	COPY_MAP_DATA	322617000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	759943
+SHUFFLE	COMPRESS_BYTE_COUNT	228360
+SHUFFLE	COPY_MAP_DATA	749614000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	756592
+SHUFFLE	COMPRESS_BYTE_COUNT	226357
+SHUFFLE	COPY_MAP_DATA	13420000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	810307
+SHUFFLE	COMPRESS_BYTE_COUNT	252076
+SHUFFLE	COPY_MAP_DATA	16148000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	711194
+SHUFFLE	COMPRESS_BYTE_COUNT	221355
+SHUFFLE	COPY_MAP_DATA	14192000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	903040
+SHUFFLE	COMPRESS_BYTE_COUNT	269580
+SHUFFLE	COPY_MAP_DATA	517175000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	763155
+SHUFFLE	COMPRESS_BYTE_COUNT	226609
+SHUFFLE	COPY_MAP_DATA	438037000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	751879
+SHUFFLE	COMPRESS_BYTE_COUNT	230494
+SHUFFLE	COPY_MAP_DATA	13475000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1017865
+SHUFFLE	COMPRESS_BYTE_COUNT	335117
+SHUFFLE	COPY_MAP_DATA	63676000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	745492
+SHUFFLE	COMPRESS_BYTE_COUNT	226045
+SHUFFLE	COPY_MAP_DATA	191018000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	851527
+SHUFFLE	COMPRESS_BYTE_COUNT	257064
+SHUFFLE	COPY_MAP_DATA	78893000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	831508
+SHUFFLE	COMPRESS_BYTE_COUNT	246010
+SHUFFLE	COPY_MAP_DATA	14177000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	835715
+SHUFFLE	COMPRESS_BYTE_COUNT	255781
+SHUFFLE	COPY_MAP_DATA	15386000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	738857
+SHUFFLE	COMPRESS_BYTE_COUNT	226120
+SHUFFLE	COPY_MAP_DATA	12314000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	882259
+SHUFFLE	COMPRESS_BYTE_COUNT	264473
+SHUFFLE	COPY_MAP_DATA	15807000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	934398
+SHUFFLE	COMPRESS_BYTE_COUNT	261378
+SHUFFLE	COPY_MAP_DATA	16561000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	759067
+SHUFFLE	COMPRESS_BYTE_COUNT	234294
+SHUFFLE	COPY_MAP_DATA	144187000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	773454
+SHUFFLE	COMPRESS_BYTE_COUNT	233262
+SHUFFLE	COPY_MAP_DATA	85641000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	810065
+SHUFFLE	COMPRESS_BYTE_COUNT	249321
+SHUFFLE	COPY_MAP_DATA	15230000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	770041
+SHUFFLE	COMPRESS_BYTE_COUNT	235103
+SHUFFLE	COPY_MAP_DATA	65240000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	810991
+SHUFFLE	COMPRESS_BYTE_COUNT	238240
+SHUFFLE	COPY_MAP_DATA	76503000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	815655
+SHUFFLE	COMPRESS_BYTE_COUNT	253058
+SHUFFLE	COPY_MAP_DATA	15187000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	873659
+SHUFFLE	COMPRESS_BYTE_COUNT	247240
+SHUFFLE	COPY_MAP_DATA	21919000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	811497
+SHUFFLE	COMPRESS_BYTE_COUNT	234639
+SHUFFLE	COPY_MAP_DATA	67234000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	797756
+SHUFFLE	COMPRESS_BYTE_COUNT	231874
+SHUFFLE	COPY_MAP_DATA	14198000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	976792
+SHUFFLE	COMPRESS_BYTE_COUNT	305576
+SHUFFLE	COPY_MAP_DATA	1009914000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	747994
+SHUFFLE	COMPRESS_BYTE_COUNT	227385
+SHUFFLE	COPY_MAP_DATA	41158000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	693305
+SHUFFLE	COMPRESS_BYTE_COUNT	214618
+SHUFFLE	COPY_MAP_DATA	13365000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	795365
+SHUFFLE	COMPRESS_BYTE_COUNT	227126
+SHUFFLE	COPY_MAP_DATA	14872000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	706431
+SHUFFLE	COMPRESS_BYTE_COUNT	229832
+SHUFFLE	COPY_MAP_DATA	124696000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	834255
+SHUFFLE	COMPRESS_BYTE_COUNT	253244
+SHUFFLE	COPY_MAP_DATA	25123000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	697960
+SHUFFLE	COMPRESS_BYTE_COUNT	173266
+SHUFFLE	COPY_MAP_DATA	12223000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	649954
+SHUFFLE	COMPRESS_BYTE_COUNT	201205
+SHUFFLE	COPY_MAP_DATA	13017000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	758011
+SHUFFLE	COMPRESS_BYTE_COUNT	236746
+SHUFFLE	COPY_MAP_DATA	12888000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	738857
+SHUFFLE	COMPRESS_BYTE_COUNT	226120
+SHUFFLE	COPY_MAP_DATA	37491000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	921191
+SHUFFLE	COMPRESS_BYTE_COUNT	283560
+SHUFFLE	COPY_MAP_DATA	16401000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	869369
+SHUFFLE	COMPRESS_BYTE_COUNT	250123
+SHUFFLE	COPY_MAP_DATA	14418000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	750975
+SHUFFLE	COMPRESS_BYTE_COUNT	142999
+SHUFFLE	COPY_MAP_DATA	10237000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	707215
+SHUFFLE	COMPRESS_BYTE_COUNT	226132
+SHUFFLE	COPY_MAP_DATA	19329000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	751198
+SHUFFLE	COMPRESS_BYTE_COUNT	220804
+SHUFFLE	COPY_MAP_DATA	54233000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	829753
+SHUFFLE	COMPRESS_BYTE_COUNT	253630
+SHUFFLE	COPY_MAP_DATA	16254000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	869784
+SHUFFLE	COMPRESS_BYTE_COUNT	238393
+SHUFFLE	COPY_MAP_DATA	13217000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	937362
+SHUFFLE	COMPRESS_BYTE_COUNT	228680
+SHUFFLE	COPY_MAP_DATA	13868000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	625228
+SHUFFLE	COMPRESS_BYTE_COUNT	197608
+SHUFFLE	COPY_MAP_DATA	11721000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	788346
+SHUFFLE	COMPRESS_BYTE_COUNT	245893
+SHUFFLE	COPY_MAP_DATA	37263000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	771035
+SHUFFLE	COMPRESS_BYTE_COUNT	230621
+SHUFFLE	COPY_MAP_DATA	13113000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	833422
+SHUFFLE	COMPRESS_BYTE_COUNT	279991
+SHUFFLE	COPY_MAP_DATA	39906000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	775355
+SHUFFLE	COMPRESS_BYTE_COUNT	228604
+SHUFFLE	COPY_MAP_DATA	23248000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	933445
+SHUFFLE	COMPRESS_BYTE_COUNT	310508
+SHUFFLE	COPY_MAP_DATA	16885000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	727163
+SHUFFLE	COMPRESS_BYTE_COUNT	239305
+SHUFFLE	COPY_MAP_DATA	34240000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	260211442278
+MERGE	READ_WRITE	251199113278
+MERGE	READ_WRITE_COUNT	2
+MERGE	COMBINE	0
+MERGE	WRITE	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	33392915000
+SORT	READ_WRITE	33219502000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	116457024
+REDUCE	SETUP	291000
+REDUCE	SETUP_MEM	116457024
+REDUCE	CLEANUP	42000
+REDUCE	CLEANUP_MEM	107179520
+REDUCE	TOTAL_RUN	102552137000
+REDUCE	READ	9008647000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	86778302000
+REDUCE	WRITE	29697365000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	68152346
+REDUCE	VALUE_BYTE_COUNT	62580666
+REDUCE	REDUCE_MEM	107181568
+REDUCE	WRITE	95241000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	766048566278
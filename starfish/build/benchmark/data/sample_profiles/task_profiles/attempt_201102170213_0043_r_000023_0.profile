@@ -0,0 +1,1333 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1934529
+SHUFFLE	COMPRESS_BYTE_COUNT	555951
+SHUFFLE	COPY_MAP_DATA	76830000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1913738
+SHUFFLE	COMPRESS_BYTE_COUNT	551801
+SHUFFLE	COPY_MAP_DATA	271124000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1867628
+SHUFFLE	COMPRESS_BYTE_COUNT	551541
+SHUFFLE	COPY_MAP_DATA	71510000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1894031
+SHUFFLE	COMPRESS_BYTE_COUNT	543558
+SHUFFLE	COPY_MAP_DATA	73102000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1847646
+SHUFFLE	COMPRESS_BYTE_COUNT	515002
+SHUFFLE	COPY_MAP_DATA	34729000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1783452
+SHUFFLE	COMPRESS_BYTE_COUNT	462921
+SHUFFLE	COPY_MAP_DATA	92831000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1891933
+SHUFFLE	COMPRESS_BYTE_COUNT	564702
+SHUFFLE	COPY_MAP_DATA	473637000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1817169
+SHUFFLE	COMPRESS_BYTE_COUNT	546588
+SHUFFLE	COPY_MAP_DATA	39792000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1911604
+SHUFFLE	COMPRESS_BYTE_COUNT	535322
+SHUFFLE	COPY_MAP_DATA	824647000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1932410
+SHUFFLE	COMPRESS_BYTE_COUNT	565704
+SHUFFLE	COPY_MAP_DATA	31541000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1943863
+SHUFFLE	COMPRESS_BYTE_COUNT	545366
+SHUFFLE	COPY_MAP_DATA	47254000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1764418
+SHUFFLE	COMPRESS_BYTE_COUNT	535072
+SHUFFLE	COPY_MAP_DATA	29134000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1853825
+SHUFFLE	COMPRESS_BYTE_COUNT	541414
+SHUFFLE	COPY_MAP_DATA	50898000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1623901
+SHUFFLE	COMPRESS_BYTE_COUNT	458276
+SHUFFLE	COPY_MAP_DATA	27736000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1843657
+SHUFFLE	COMPRESS_BYTE_COUNT	541495
+SHUFFLE	COPY_MAP_DATA	162860000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1919879
+SHUFFLE	COMPRESS_BYTE_COUNT	548229
+SHUFFLE	COPY_MAP_DATA	39932000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1921805
+SHUFFLE	COMPRESS_BYTE_COUNT	555304
+SHUFFLE	COPY_MAP_DATA	40136000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2026419
+SHUFFLE	COMPRESS_BYTE_COUNT	566601
+SHUFFLE	COPY_MAP_DATA	245284000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1846014
+SHUFFLE	COMPRESS_BYTE_COUNT	555523
+SHUFFLE	COPY_MAP_DATA	69922000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2002659
+SHUFFLE	COMPRESS_BYTE_COUNT	564986
+SHUFFLE	COPY_MAP_DATA	30167000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2091008
+SHUFFLE	COMPRESS_BYTE_COUNT	559874
+SHUFFLE	COPY_MAP_DATA	30905000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1868921
+SHUFFLE	COMPRESS_BYTE_COUNT	555631
+SHUFFLE	COPY_MAP_DATA	30702000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1859088
+SHUFFLE	COMPRESS_BYTE_COUNT	553401
+SHUFFLE	COPY_MAP_DATA	29376000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1960648
+SHUFFLE	COMPRESS_BYTE_COUNT	531978
+SHUFFLE	COPY_MAP_DATA	100548000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1981188
+SHUFFLE	COMPRESS_BYTE_COUNT	545189
+SHUFFLE	COPY_MAP_DATA	29041000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1790465
+SHUFFLE	COMPRESS_BYTE_COUNT	542757
+SHUFFLE	COPY_MAP_DATA	27109000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1723362
+SHUFFLE	COMPRESS_BYTE_COUNT	476974
+SHUFFLE	COPY_MAP_DATA	23953000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1849589
+SHUFFLE	COMPRESS_BYTE_COUNT	555102
+SHUFFLE	COPY_MAP_DATA	27073000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1823087
+SHUFFLE	COMPRESS_BYTE_COUNT	554289
+SHUFFLE	COPY_MAP_DATA	36776000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1953055
+SHUFFLE	COMPRESS_BYTE_COUNT	538561
+SHUFFLE	COPY_MAP_DATA	135436000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1807175
+SHUFFLE	COMPRESS_BYTE_COUNT	544707
+SHUFFLE	COPY_MAP_DATA	94642000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1742185
+SHUFFLE	COMPRESS_BYTE_COUNT	524541
+SHUFFLE	COPY_MAP_DATA	27100000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1697376
+SHUFFLE	COMPRESS_BYTE_COUNT	518713
+SHUFFLE	COPY_MAP_DATA	48570000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1787308
+SHUFFLE	COMPRESS_BYTE_COUNT	541591
+SHUFFLE	COPY_MAP_DATA	26540000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1764355
+SHUFFLE	COMPRESS_BYTE_COUNT	532549
+SHUFFLE	COPY_MAP_DATA	28533000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1894254
+SHUFFLE	COMPRESS_BYTE_COUNT	556205
+SHUFFLE	COPY_MAP_DATA	30274000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1738415
+SHUFFLE	COMPRESS_BYTE_COUNT	525123
+SHUFFLE	COPY_MAP_DATA	37621000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1715076
+SHUFFLE	COMPRESS_BYTE_COUNT	524300
+SHUFFLE	COPY_MAP_DATA	180328000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1890137
+SHUFFLE	COMPRESS_BYTE_COUNT	558272
+SHUFFLE	COPY_MAP_DATA	132117000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1859050
+SHUFFLE	COMPRESS_BYTE_COUNT	550206
+SHUFFLE	COPY_MAP_DATA	35612000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1490841
+SHUFFLE	COMPRESS_BYTE_COUNT	448566
+SHUFFLE	COPY_MAP_DATA	108648000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1840549
+SHUFFLE	COMPRESS_BYTE_COUNT	542773
+SHUFFLE	COPY_MAP_DATA	29326000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1833589
+SHUFFLE	COMPRESS_BYTE_COUNT	537508
+SHUFFLE	COPY_MAP_DATA	36419000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2106919
+SHUFFLE	COMPRESS_BYTE_COUNT	469884
+SHUFFLE	COPY_MAP_DATA	52900000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1803030
+SHUFFLE	COMPRESS_BYTE_COUNT	547233
+SHUFFLE	COPY_MAP_DATA	37337000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1861084
+SHUFFLE	COMPRESS_BYTE_COUNT	553088
+SHUFFLE	COPY_MAP_DATA	27990000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1753751
+SHUFFLE	COMPRESS_BYTE_COUNT	536354
+SHUFFLE	COPY_MAP_DATA	158954000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1716211
+SHUFFLE	COMPRESS_BYTE_COUNT	526093
+SHUFFLE	COPY_MAP_DATA	27178000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1624682
+SHUFFLE	COMPRESS_BYTE_COUNT	487091
+SHUFFLE	COPY_MAP_DATA	110042000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1680653
+SHUFFLE	COMPRESS_BYTE_COUNT	490187
+SHUFFLE	COPY_MAP_DATA	72537000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1660031
+SHUFFLE	COMPRESS_BYTE_COUNT	481148
+SHUFFLE	COPY_MAP_DATA	1008562000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1649583
+SHUFFLE	COMPRESS_BYTE_COUNT	480067
+SHUFFLE	COPY_MAP_DATA	35254000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1805781
+SHUFFLE	COMPRESS_BYTE_COUNT	527030
+SHUFFLE	COPY_MAP_DATA	28746000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1829782
+SHUFFLE	COMPRESS_BYTE_COUNT	524083
+SHUFFLE	COPY_MAP_DATA	203437000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1790216
+SHUFFLE	COMPRESS_BYTE_COUNT	509335
+SHUFFLE	COPY_MAP_DATA	235227000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1805125
+SHUFFLE	COMPRESS_BYTE_COUNT	542224
+SHUFFLE	COPY_MAP_DATA	127418000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1935927
+SHUFFLE	COMPRESS_BYTE_COUNT	546600
+SHUFFLE	COPY_MAP_DATA	56682000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1844763
+SHUFFLE	COMPRESS_BYTE_COUNT	538760
+SHUFFLE	COPY_MAP_DATA	27637000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1688284
+SHUFFLE	COMPRESS_BYTE_COUNT	516080
+SHUFFLE	COPY_MAP_DATA	26240000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1661838
+SHUFFLE	COMPRESS_BYTE_COUNT	514629
+SHUFFLE	COPY_MAP_DATA	113901000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1564393
+SHUFFLE	COMPRESS_BYTE_COUNT	471423
+SHUFFLE	COPY_MAP_DATA	3940997000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1594662
+SHUFFLE	COMPRESS_BYTE_COUNT	471898
+SHUFFLE	COPY_MAP_DATA	47465000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1600254
+SHUFFLE	COMPRESS_BYTE_COUNT	474025
+SHUFFLE	COPY_MAP_DATA	34849000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1614831
+SHUFFLE	COMPRESS_BYTE_COUNT	481116
+SHUFFLE	COPY_MAP_DATA	331105000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1595215
+SHUFFLE	COMPRESS_BYTE_COUNT	447560
+SHUFFLE	COPY_MAP_DATA	189036000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1838011
+SHUFFLE	COMPRESS_BYTE_COUNT	531814
+SHUFFLE	COPY_MAP_DATA	27169000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1546514
+SHUFFLE	COMPRESS_BYTE_COUNT	449069
+SHUFFLE	COPY_MAP_DATA	23559000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1676716
+SHUFFLE	COMPRESS_BYTE_COUNT	485244
+SHUFFLE	COPY_MAP_DATA	27795000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1642691
+SHUFFLE	COMPRESS_BYTE_COUNT	473617
+SHUFFLE	COPY_MAP_DATA	34311000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1677466
+SHUFFLE	COMPRESS_BYTE_COUNT	471516
+SHUFFLE	COPY_MAP_DATA	44132000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1549134
+SHUFFLE	COMPRESS_BYTE_COUNT	448997
+SHUFFLE	COPY_MAP_DATA	25114000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1922100
+SHUFFLE	COMPRESS_BYTE_COUNT	583824
+SHUFFLE	COPY_MAP_DATA	39728000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1510155
+SHUFFLE	COMPRESS_BYTE_COUNT	446195
+SHUFFLE	COPY_MAP_DATA	44899000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1459375
+SHUFFLE	COMPRESS_BYTE_COUNT	434788
+SHUFFLE	COPY_MAP_DATA	23958000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1622625
+SHUFFLE	COMPRESS_BYTE_COUNT	473840
+SHUFFLE	COPY_MAP_DATA	109508000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1588497
+SHUFFLE	COMPRESS_BYTE_COUNT	463716
+SHUFFLE	COPY_MAP_DATA	48720000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1549340
+SHUFFLE	COMPRESS_BYTE_COUNT	447643
+SHUFFLE	COPY_MAP_DATA	3025208000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1585195
+SHUFFLE	COMPRESS_BYTE_COUNT	463406
+SHUFFLE	COPY_MAP_DATA	24483000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1512970
+SHUFFLE	COMPRESS_BYTE_COUNT	456120
+SHUFFLE	COPY_MAP_DATA	152495000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1503382
+SHUFFLE	COMPRESS_BYTE_COUNT	456917
+SHUFFLE	COPY_MAP_DATA	1168151000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1783105
+SHUFFLE	COMPRESS_BYTE_COUNT	562707
+SHUFFLE	COPY_MAP_DATA	28848000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1788597
+SHUFFLE	COMPRESS_BYTE_COUNT	519114
+SHUFFLE	COPY_MAP_DATA	89973000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1597257
+SHUFFLE	COMPRESS_BYTE_COUNT	470672
+SHUFFLE	COPY_MAP_DATA	840808000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1588641
+SHUFFLE	COMPRESS_BYTE_COUNT	468828
+SHUFFLE	COPY_MAP_DATA	224647000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1750130
+SHUFFLE	COMPRESS_BYTE_COUNT	517938
+SHUFFLE	COPY_MAP_DATA	315959000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1562078
+SHUFFLE	COMPRESS_BYTE_COUNT	463847
+SHUFFLE	COPY_MAP_DATA	25164000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1764568
+SHUFFLE	COMPRESS_BYTE_COUNT	536618
+SHUFFLE	COPY_MAP_DATA	118520000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	816966
+SHUFFLE	COMPRESS_BYTE_COUNT	230910
+SHUFFLE	COPY_MAP_DATA	179251000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1379625
+SHUFFLE	COMPRESS_BYTE_COUNT	421922
+SHUFFLE	COPY_MAP_DATA	23183000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1515431
+SHUFFLE	COMPRESS_BYTE_COUNT	433556
+SHUFFLE	COPY_MAP_DATA	23780000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1675309
+SHUFFLE	COMPRESS_BYTE_COUNT	462315
+SHUFFLE	COPY_MAP_DATA	6960176000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	966488
+SHUFFLE	COMPRESS_BYTE_COUNT	262790
+SHUFFLE	COPY_MAP_DATA	40220000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	832127
+SHUFFLE	COMPRESS_BYTE_COUNT	244058
+SHUFFLE	COPY_MAP_DATA	707572000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	891237
+SHUFFLE	COMPRESS_BYTE_COUNT	261821
+SHUFFLE	COPY_MAP_DATA	88323000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	981680
+SHUFFLE	COMPRESS_BYTE_COUNT	287442
+SHUFFLE	COPY_MAP_DATA	32895000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	795459
+SHUFFLE	COMPRESS_BYTE_COUNT	236779
+SHUFFLE	COPY_MAP_DATA	14297000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1467596
+SHUFFLE	COMPRESS_BYTE_COUNT	446743
+SHUFFLE	COPY_MAP_DATA	23975000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1663002
+SHUFFLE	COMPRESS_BYTE_COUNT	466951
+SHUFFLE	COPY_MAP_DATA	915825000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	828444
+SHUFFLE	COMPRESS_BYTE_COUNT	238392
+SHUFFLE	COPY_MAP_DATA	108992000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1362253
+SHUFFLE	COMPRESS_BYTE_COUNT	415012
+SHUFFLE	COPY_MAP_DATA	22273000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1492694
+SHUFFLE	COMPRESS_BYTE_COUNT	445837
+SHUFFLE	COPY_MAP_DATA	23903000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1570560
+SHUFFLE	COMPRESS_BYTE_COUNT	462517
+SHUFFLE	COPY_MAP_DATA	24251000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1623077
+SHUFFLE	COMPRESS_BYTE_COUNT	481151
+SHUFFLE	COPY_MAP_DATA	162672000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1531130
+SHUFFLE	COMPRESS_BYTE_COUNT	428734
+SHUFFLE	COPY_MAP_DATA	279957000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	924418
+SHUFFLE	COMPRESS_BYTE_COUNT	277789
+SHUFFLE	COPY_MAP_DATA	16412000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1505931
+SHUFFLE	COMPRESS_BYTE_COUNT	440252
+SHUFFLE	COPY_MAP_DATA	100059000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1666075
+SHUFFLE	COMPRESS_BYTE_COUNT	525888
+SHUFFLE	COPY_MAP_DATA	27116000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1495541
+SHUFFLE	COMPRESS_BYTE_COUNT	440869
+SHUFFLE	COPY_MAP_DATA	32404000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	994267
+SHUFFLE	COMPRESS_BYTE_COUNT	288828
+SHUFFLE	COPY_MAP_DATA	818206000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1724911
+SHUFFLE	COMPRESS_BYTE_COUNT	507275
+SHUFFLE	COPY_MAP_DATA	25175000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1038008
+SHUFFLE	COMPRESS_BYTE_COUNT	288698
+SHUFFLE	COPY_MAP_DATA	75747000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	922642
+SHUFFLE	COMPRESS_BYTE_COUNT	274040
+SHUFFLE	COPY_MAP_DATA	16564000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2588201
+SHUFFLE	COMPRESS_BYTE_COUNT	431611
+SHUFFLE	COPY_MAP_DATA	43815000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1535561
+SHUFFLE	COMPRESS_BYTE_COUNT	455500
+SHUFFLE	COPY_MAP_DATA	24335000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1596634
+SHUFFLE	COMPRESS_BYTE_COUNT	464457
+SHUFFLE	COPY_MAP_DATA	52215000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	929926
+SHUFFLE	COMPRESS_BYTE_COUNT	278406
+SHUFFLE	COPY_MAP_DATA	16588000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1595607
+SHUFFLE	COMPRESS_BYTE_COUNT	490269
+SHUFFLE	COPY_MAP_DATA	33951000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1634304
+SHUFFLE	COMPRESS_BYTE_COUNT	479083
+SHUFFLE	COPY_MAP_DATA	26838000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	987765
+SHUFFLE	COMPRESS_BYTE_COUNT	289164
+SHUFFLE	COPY_MAP_DATA	39473000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1837036
+SHUFFLE	COMPRESS_BYTE_COUNT	525716
+SHUFFLE	COPY_MAP_DATA	5368217000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1614191
+SHUFFLE	COMPRESS_BYTE_COUNT	459505
+SHUFFLE	COPY_MAP_DATA	894924000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	953431
+SHUFFLE	COMPRESS_BYTE_COUNT	285912
+SHUFFLE	COPY_MAP_DATA	99765000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	896239
+SHUFFLE	COMPRESS_BYTE_COUNT	283985
+SHUFFLE	COPY_MAP_DATA	935206000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	987042
+SHUFFLE	COMPRESS_BYTE_COUNT	295279
+SHUFFLE	COPY_MAP_DATA	95366000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	963008
+SHUFFLE	COMPRESS_BYTE_COUNT	283686
+SHUFFLE	COPY_MAP_DATA	16149000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	923230
+SHUFFLE	COMPRESS_BYTE_COUNT	262774
+SHUFFLE	COPY_MAP_DATA	15368000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	941941
+SHUFFLE	COMPRESS_BYTE_COUNT	286878
+SHUFFLE	COPY_MAP_DATA	29494000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	959490
+SHUFFLE	COMPRESS_BYTE_COUNT	286902
+SHUFFLE	COPY_MAP_DATA	27153000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	966234
+SHUFFLE	COMPRESS_BYTE_COUNT	293404
+SHUFFLE	COPY_MAP_DATA	17914000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	925704
+SHUFFLE	COMPRESS_BYTE_COUNT	284789
+SHUFFLE	COPY_MAP_DATA	18001000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	971799
+SHUFFLE	COMPRESS_BYTE_COUNT	290840
+SHUFFLE	COPY_MAP_DATA	19578000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	986923
+SHUFFLE	COMPRESS_BYTE_COUNT	287909
+SHUFFLE	COPY_MAP_DATA	36813000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	949202
+SHUFFLE	COMPRESS_BYTE_COUNT	286637
+SHUFFLE	COPY_MAP_DATA	283121000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	956100
+SHUFFLE	COMPRESS_BYTE_COUNT	287416
+SHUFFLE	COPY_MAP_DATA	38279000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	963176
+SHUFFLE	COMPRESS_BYTE_COUNT	286612
+SHUFFLE	COPY_MAP_DATA	203065000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	975041
+SHUFFLE	COMPRESS_BYTE_COUNT	297068
+SHUFFLE	COPY_MAP_DATA	6221384000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	962484
+SHUFFLE	COMPRESS_BYTE_COUNT	287457
+SHUFFLE	COPY_MAP_DATA	16422000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1128526
+SHUFFLE	COMPRESS_BYTE_COUNT	299473
+SHUFFLE	COPY_MAP_DATA	570093000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1049230
+SHUFFLE	COMPRESS_BYTE_COUNT	308773
+SHUFFLE	COPY_MAP_DATA	18580000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	947420
+SHUFFLE	COMPRESS_BYTE_COUNT	282705
+SHUFFLE	COPY_MAP_DATA	16732000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	936101
+SHUFFLE	COMPRESS_BYTE_COUNT	290328
+SHUFFLE	COPY_MAP_DATA	531897000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	958631
+SHUFFLE	COMPRESS_BYTE_COUNT	296773
+SHUFFLE	COPY_MAP_DATA	36320000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	942656
+SHUFFLE	COMPRESS_BYTE_COUNT	292252
+SHUFFLE	COPY_MAP_DATA	17454000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	916434
+SHUFFLE	COMPRESS_BYTE_COUNT	286356
+SHUFFLE	COPY_MAP_DATA	16463000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1039379
+SHUFFLE	COMPRESS_BYTE_COUNT	299913
+SHUFFLE	COPY_MAP_DATA	16603000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	938943
+SHUFFLE	COMPRESS_BYTE_COUNT	290170
+SHUFFLE	COPY_MAP_DATA	74065000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	910214
+SHUFFLE	COMPRESS_BYTE_COUNT	273190
+SHUFFLE	COPY_MAP_DATA	313163000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	955773
+SHUFFLE	COMPRESS_BYTE_COUNT	290168
+SHUFFLE	COPY_MAP_DATA	289746000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	966178
+SHUFFLE	COMPRESS_BYTE_COUNT	298561
+SHUFFLE	COPY_MAP_DATA	301814000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	924266
+SHUFFLE	COMPRESS_BYTE_COUNT	289165
+SHUFFLE	COPY_MAP_DATA	40949000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	967669
+SHUFFLE	COMPRESS_BYTE_COUNT	299731
+SHUFFLE	COPY_MAP_DATA	174706000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	939900
+SHUFFLE	COMPRESS_BYTE_COUNT	288181
+SHUFFLE	COPY_MAP_DATA	149470000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	913927
+SHUFFLE	COMPRESS_BYTE_COUNT	277876
+SHUFFLE	COPY_MAP_DATA	124884000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	944831
+SHUFFLE	COMPRESS_BYTE_COUNT	284305
+SHUFFLE	COPY_MAP_DATA	16915000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	891335
+SHUFFLE	COMPRESS_BYTE_COUNT	283927
+SHUFFLE	COPY_MAP_DATA	26154000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	922283
+SHUFFLE	COMPRESS_BYTE_COUNT	291884
+SHUFFLE	COPY_MAP_DATA	16066000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	931719
+SHUFFLE	COMPRESS_BYTE_COUNT	288833
+SHUFFLE	COPY_MAP_DATA	16988000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	981051
+SHUFFLE	COMPRESS_BYTE_COUNT	267835
+SHUFFLE	COPY_MAP_DATA	32267000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	935368
+SHUFFLE	COMPRESS_BYTE_COUNT	287887
+SHUFFLE	COPY_MAP_DATA	47192000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	888625
+SHUFFLE	COMPRESS_BYTE_COUNT	282951
+SHUFFLE	COPY_MAP_DATA	184026000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	990049
+SHUFFLE	COMPRESS_BYTE_COUNT	281577
+SHUFFLE	COPY_MAP_DATA	16419000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	931377
+SHUFFLE	COMPRESS_BYTE_COUNT	293581
+SHUFFLE	COPY_MAP_DATA	4030558000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	949415
+SHUFFLE	COMPRESS_BYTE_COUNT	284061
+SHUFFLE	COPY_MAP_DATA	59983000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	910648
+SHUFFLE	COMPRESS_BYTE_COUNT	290995
+SHUFFLE	COPY_MAP_DATA	16179000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	877483
+SHUFFLE	COMPRESS_BYTE_COUNT	274939
+SHUFFLE	COPY_MAP_DATA	28305000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	933348
+SHUFFLE	COMPRESS_BYTE_COUNT	292051
+SHUFFLE	COPY_MAP_DATA	217605000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	934340
+SHUFFLE	COMPRESS_BYTE_COUNT	290919
+SHUFFLE	COPY_MAP_DATA	69695000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	970466
+SHUFFLE	COMPRESS_BYTE_COUNT	289226
+SHUFFLE	COPY_MAP_DATA	17926000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	935911
+SHUFFLE	COMPRESS_BYTE_COUNT	284817
+SHUFFLE	COPY_MAP_DATA	14940000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	914639
+SHUFFLE	COMPRESS_BYTE_COUNT	285293
+SHUFFLE	COPY_MAP_DATA	1266640000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	955799
+SHUFFLE	COMPRESS_BYTE_COUNT	293096
+SHUFFLE	COPY_MAP_DATA	175907000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	938483
+SHUFFLE	COMPRESS_BYTE_COUNT	288871
+SHUFFLE	COPY_MAP_DATA	16797000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	877344
+SHUFFLE	COMPRESS_BYTE_COUNT	275859
+SHUFFLE	COPY_MAP_DATA	15634000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	885851
+SHUFFLE	COMPRESS_BYTE_COUNT	280027
+SHUFFLE	COPY_MAP_DATA	16085000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	900806
+SHUFFLE	COMPRESS_BYTE_COUNT	284997
+SHUFFLE	COPY_MAP_DATA	140560000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	974843
+SHUFFLE	COMPRESS_BYTE_COUNT	293766
+SHUFFLE	COPY_MAP_DATA	2121816000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	928546
+SHUFFLE	COMPRESS_BYTE_COUNT	284888
+SHUFFLE	COPY_MAP_DATA	25100000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	932822
+SHUFFLE	COMPRESS_BYTE_COUNT	289459
+SHUFFLE	COPY_MAP_DATA	20705000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	872575
+SHUFFLE	COMPRESS_BYTE_COUNT	278964
+SHUFFLE	COPY_MAP_DATA	32760000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	917892
+SHUFFLE	COMPRESS_BYTE_COUNT	286601
+SHUFFLE	COPY_MAP_DATA	189501000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	934551
+SHUFFLE	COMPRESS_BYTE_COUNT	293300
+SHUFFLE	COPY_MAP_DATA	32759000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	850160
+SHUFFLE	COMPRESS_BYTE_COUNT	271349
+SHUFFLE	COPY_MAP_DATA	304699000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	865955
+SHUFFLE	COMPRESS_BYTE_COUNT	275339
+SHUFFLE	COPY_MAP_DATA	16906000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	899866
+SHUFFLE	COMPRESS_BYTE_COUNT	281786
+SHUFFLE	COPY_MAP_DATA	65389000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	895944
+SHUFFLE	COMPRESS_BYTE_COUNT	283267
+SHUFFLE	COPY_MAP_DATA	19391000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	925718
+SHUFFLE	COMPRESS_BYTE_COUNT	288501
+SHUFFLE	COPY_MAP_DATA	42503000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	819134
+SHUFFLE	COMPRESS_BYTE_COUNT	262307
+SHUFFLE	COPY_MAP_DATA	501004000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	862418
+SHUFFLE	COMPRESS_BYTE_COUNT	273516
+SHUFFLE	COPY_MAP_DATA	16757000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	864704
+SHUFFLE	COMPRESS_BYTE_COUNT	270343
+SHUFFLE	COPY_MAP_DATA	160712000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	884613
+SHUFFLE	COMPRESS_BYTE_COUNT	279082
+SHUFFLE	COPY_MAP_DATA	158045000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	858014
+SHUFFLE	COMPRESS_BYTE_COUNT	271212
+SHUFFLE	COPY_MAP_DATA	534278000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	876930
+SHUFFLE	COMPRESS_BYTE_COUNT	278476
+SHUFFLE	COPY_MAP_DATA	29413000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	901459
+SHUFFLE	COMPRESS_BYTE_COUNT	283661
+SHUFFLE	COPY_MAP_DATA	350143000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	903166
+SHUFFLE	COMPRESS_BYTE_COUNT	287427
+SHUFFLE	COPY_MAP_DATA	15189000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	874689
+SHUFFLE	COMPRESS_BYTE_COUNT	282854
+SHUFFLE	COPY_MAP_DATA	16335000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	929833
+SHUFFLE	COMPRESS_BYTE_COUNT	290111
+SHUFFLE	COPY_MAP_DATA	16168000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	948978
+SHUFFLE	COMPRESS_BYTE_COUNT	280728
+SHUFFLE	COPY_MAP_DATA	23872000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	861150
+SHUFFLE	COMPRESS_BYTE_COUNT	279387
+SHUFFLE	COPY_MAP_DATA	15285000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	865708
+SHUFFLE	COMPRESS_BYTE_COUNT	270793
+SHUFFLE	COPY_MAP_DATA	36452000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	879227
+SHUFFLE	COMPRESS_BYTE_COUNT	266043
+SHUFFLE	COPY_MAP_DATA	16006000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	877197
+SHUFFLE	COMPRESS_BYTE_COUNT	276541
+SHUFFLE	COPY_MAP_DATA	91286000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	840912
+SHUFFLE	COMPRESS_BYTE_COUNT	250909
+SHUFFLE	COPY_MAP_DATA	172219000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	830272
+SHUFFLE	COMPRESS_BYTE_COUNT	265560
+SHUFFLE	COPY_MAP_DATA	267920000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	854492
+SHUFFLE	COMPRESS_BYTE_COUNT	272381
+SHUFFLE	COPY_MAP_DATA	17173000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	811469
+SHUFFLE	COMPRESS_BYTE_COUNT	248078
+SHUFFLE	COPY_MAP_DATA	14119000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	820448
+SHUFFLE	COMPRESS_BYTE_COUNT	259660
+SHUFFLE	COPY_MAP_DATA	15009000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	861220
+SHUFFLE	COMPRESS_BYTE_COUNT	269119
+SHUFFLE	COPY_MAP_DATA	537794000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	929690
+SHUFFLE	COMPRESS_BYTE_COUNT	286678
+SHUFFLE	COPY_MAP_DATA	104188000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	903207
+SHUFFLE	COMPRESS_BYTE_COUNT	273048
+SHUFFLE	COPY_MAP_DATA	40278000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	898465
+SHUFFLE	COMPRESS_BYTE_COUNT	281472
+SHUFFLE	COPY_MAP_DATA	6979020000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	916323
+SHUFFLE	COMPRESS_BYTE_COUNT	283430
+SHUFFLE	COPY_MAP_DATA	600801000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	930438
+SHUFFLE	COMPRESS_BYTE_COUNT	279982
+SHUFFLE	COPY_MAP_DATA	335890000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	829358
+SHUFFLE	COMPRESS_BYTE_COUNT	251859
+SHUFFLE	COPY_MAP_DATA	1418114000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	876093
+SHUFFLE	COMPRESS_BYTE_COUNT	261187
+SHUFFLE	COPY_MAP_DATA	14773000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	811680
+SHUFFLE	COMPRESS_BYTE_COUNT	264155
+SHUFFLE	COPY_MAP_DATA	228890000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	781704
+SHUFFLE	COMPRESS_BYTE_COUNT	241236
+SHUFFLE	COPY_MAP_DATA	809349000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	793675
+SHUFFLE	COMPRESS_BYTE_COUNT	242591
+SHUFFLE	COPY_MAP_DATA	69118000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	871836
+SHUFFLE	COMPRESS_BYTE_COUNT	265766
+SHUFFLE	COPY_MAP_DATA	469686000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	831968
+SHUFFLE	COMPRESS_BYTE_COUNT	253177
+SHUFFLE	COPY_MAP_DATA	14601000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1019606
+SHUFFLE	COMPRESS_BYTE_COUNT	283247
+SHUFFLE	COPY_MAP_DATA	156761000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	861721
+SHUFFLE	COMPRESS_BYTE_COUNT	268177
+SHUFFLE	COPY_MAP_DATA	214913000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	843284
+SHUFFLE	COMPRESS_BYTE_COUNT	261312
+SHUFFLE	COPY_MAP_DATA	64755000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	818552
+SHUFFLE	COMPRESS_BYTE_COUNT	249790
+SHUFFLE	COPY_MAP_DATA	76294000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	807184
+SHUFFLE	COMPRESS_BYTE_COUNT	245187
+SHUFFLE	COPY_MAP_DATA	13849000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	978775
+SHUFFLE	COMPRESS_BYTE_COUNT	287850
+SHUFFLE	COPY_MAP_DATA	15483000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	851009
+SHUFFLE	COMPRESS_BYTE_COUNT	256007
+SHUFFLE	COPY_MAP_DATA	150810000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	883525
+SHUFFLE	COMPRESS_BYTE_COUNT	262052
+SHUFFLE	COPY_MAP_DATA	13341000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	818930
+SHUFFLE	COMPRESS_BYTE_COUNT	243211
+SHUFFLE	COPY_MAP_DATA	14271000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	871956
+SHUFFLE	COMPRESS_BYTE_COUNT	249785
+SHUFFLE	COPY_MAP_DATA	229479000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	839743
+SHUFFLE	COMPRESS_BYTE_COUNT	257946
+SHUFFLE	COPY_MAP_DATA	14415000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1174970
+SHUFFLE	COMPRESS_BYTE_COUNT	238621
+SHUFFLE	COPY_MAP_DATA	504465000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	709940
+SHUFFLE	COMPRESS_BYTE_COUNT	226599
+SHUFFLE	COPY_MAP_DATA	145151000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	804762
+SHUFFLE	COMPRESS_BYTE_COUNT	252125
+SHUFFLE	COPY_MAP_DATA	15316000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	759750
+SHUFFLE	COMPRESS_BYTE_COUNT	234516
+SHUFFLE	COPY_MAP_DATA	14739000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	735668
+SHUFFLE	COMPRESS_BYTE_COUNT	226792
+SHUFFLE	COPY_MAP_DATA	693298000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	958786
+SHUFFLE	COMPRESS_BYTE_COUNT	285281
+SHUFFLE	COPY_MAP_DATA	1070513000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	812860
+SHUFFLE	COMPRESS_BYTE_COUNT	249559
+SHUFFLE	COPY_MAP_DATA	61971000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	747468
+SHUFFLE	COMPRESS_BYTE_COUNT	239623
+SHUFFLE	COPY_MAP_DATA	80153000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	796307
+SHUFFLE	COMPRESS_BYTE_COUNT	245253
+SHUFFLE	COPY_MAP_DATA	15486000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	758110
+SHUFFLE	COMPRESS_BYTE_COUNT	234541
+SHUFFLE	COPY_MAP_DATA	14283000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	803359
+SHUFFLE	COMPRESS_BYTE_COUNT	241697
+SHUFFLE	COPY_MAP_DATA	13516000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	754692
+SHUFFLE	COMPRESS_BYTE_COUNT	234542
+SHUFFLE	COPY_MAP_DATA	110989000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	969408
+SHUFFLE	COMPRESS_BYTE_COUNT	281866
+SHUFFLE	COPY_MAP_DATA	1435879000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	793867
+SHUFFLE	COMPRESS_BYTE_COUNT	232115
+SHUFFLE	COPY_MAP_DATA	15817000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	820227
+SHUFFLE	COMPRESS_BYTE_COUNT	244517
+SHUFFLE	COPY_MAP_DATA	35882000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	752848
+SHUFFLE	COMPRESS_BYTE_COUNT	238034
+SHUFFLE	COPY_MAP_DATA	14410000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	814464
+SHUFFLE	COMPRESS_BYTE_COUNT	252424
+SHUFFLE	COPY_MAP_DATA	15086000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	803628
+SHUFFLE	COMPRESS_BYTE_COUNT	254615
+SHUFFLE	COPY_MAP_DATA	13865000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	785338
+SHUFFLE	COMPRESS_BYTE_COUNT	242781
+SHUFFLE	COPY_MAP_DATA	13886000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	802079
+SHUFFLE	COMPRESS_BYTE_COUNT	239387
+SHUFFLE	COPY_MAP_DATA	4228225000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	819191
+SHUFFLE	COMPRESS_BYTE_COUNT	255656
+SHUFFLE	COPY_MAP_DATA	265941000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	784710
+SHUFFLE	COMPRESS_BYTE_COUNT	241730
+SHUFFLE	COPY_MAP_DATA	1321992000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	755667
+SHUFFLE	COMPRESS_BYTE_COUNT	220599
+SHUFFLE	COPY_MAP_DATA	172700000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1162352
+SHUFFLE	COMPRESS_BYTE_COUNT	366865
+SHUFFLE	COPY_MAP_DATA	20453000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	774489
+SHUFFLE	COMPRESS_BYTE_COUNT	234976
+SHUFFLE	COPY_MAP_DATA	14786000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	776508
+SHUFFLE	COMPRESS_BYTE_COUNT	236169
+SHUFFLE	COPY_MAP_DATA	13848000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	782865
+SHUFFLE	COMPRESS_BYTE_COUNT	244070
+SHUFFLE	COPY_MAP_DATA	13793000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	733565
+SHUFFLE	COMPRESS_BYTE_COUNT	226998
+SHUFFLE	COPY_MAP_DATA	24185000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	727634
+SHUFFLE	COMPRESS_BYTE_COUNT	229281
+SHUFFLE	COPY_MAP_DATA	396317000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	857519
+SHUFFLE	COMPRESS_BYTE_COUNT	256406
+SHUFFLE	COPY_MAP_DATA	29550000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	731513
+SHUFFLE	COMPRESS_BYTE_COUNT	222664
+SHUFFLE	COPY_MAP_DATA	15227000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	744437
+SHUFFLE	COMPRESS_BYTE_COUNT	226739
+SHUFFLE	COPY_MAP_DATA	126271000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	860262
+SHUFFLE	COMPRESS_BYTE_COUNT	256477
+SHUFFLE	COPY_MAP_DATA	210935000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	829818
+SHUFFLE	COMPRESS_BYTE_COUNT	259569
+SHUFFLE	COPY_MAP_DATA	36874000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	739233
+SHUFFLE	COMPRESS_BYTE_COUNT	223622
+SHUFFLE	COPY_MAP_DATA	186372000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	800487
+SHUFFLE	COMPRESS_BYTE_COUNT	238471
+SHUFFLE	COPY_MAP_DATA	263356000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	828229
+SHUFFLE	COMPRESS_BYTE_COUNT	238122
+SHUFFLE	COPY_MAP_DATA	733655000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	914800
+SHUFFLE	COMPRESS_BYTE_COUNT	276670
+SHUFFLE	COPY_MAP_DATA	5249274000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	760767
+SHUFFLE	COMPRESS_BYTE_COUNT	233631
+SHUFFLE	COPY_MAP_DATA	153287000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	732733
+SHUFFLE	COMPRESS_BYTE_COUNT	231802
+SHUFFLE	COPY_MAP_DATA	14692000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	765773
+SHUFFLE	COMPRESS_BYTE_COUNT	233935
+SHUFFLE	COPY_MAP_DATA	13885000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	798112
+SHUFFLE	COMPRESS_BYTE_COUNT	237610
+SHUFFLE	COPY_MAP_DATA	43793000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	765108
+SHUFFLE	COMPRESS_BYTE_COUNT	234363
+SHUFFLE	COPY_MAP_DATA	14568000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	762784
+SHUFFLE	COMPRESS_BYTE_COUNT	225993
+SHUFFLE	COPY_MAP_DATA	13582000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	704685
+SHUFFLE	COMPRESS_BYTE_COUNT	215328
+SHUFFLE	COPY_MAP_DATA	15526000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	783920
+SHUFFLE	COMPRESS_BYTE_COUNT	225774
+SHUFFLE	COPY_MAP_DATA	13666000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	750471
+SHUFFLE	COMPRESS_BYTE_COUNT	229240
+SHUFFLE	COPY_MAP_DATA	874350000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1035639
+SHUFFLE	COMPRESS_BYTE_COUNT	337210
+SHUFFLE	COPY_MAP_DATA	18508000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	929956
+SHUFFLE	COMPRESS_BYTE_COUNT	271943
+SHUFFLE	COPY_MAP_DATA	16807000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	766826
+SHUFFLE	COMPRESS_BYTE_COUNT	233569
+SHUFFLE	COPY_MAP_DATA	29695000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	801115
+SHUFFLE	COMPRESS_BYTE_COUNT	241681
+SHUFFLE	COPY_MAP_DATA	15315000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	751024
+SHUFFLE	COMPRESS_BYTE_COUNT	227060
+SHUFFLE	COPY_MAP_DATA	13027000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	801350
+SHUFFLE	COMPRESS_BYTE_COUNT	229864
+SHUFFLE	COPY_MAP_DATA	13935000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	716158
+SHUFFLE	COMPRESS_BYTE_COUNT	219808
+SHUFFLE	COPY_MAP_DATA	12050000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	787226
+SHUFFLE	COMPRESS_BYTE_COUNT	250233
+SHUFFLE	COPY_MAP_DATA	14022000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	787528
+SHUFFLE	COMPRESS_BYTE_COUNT	243325
+SHUFFLE	COPY_MAP_DATA	14037000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	846788
+SHUFFLE	COMPRESS_BYTE_COUNT	256289
+SHUFFLE	COPY_MAP_DATA	14879000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	808415
+SHUFFLE	COMPRESS_BYTE_COUNT	248696
+SHUFFLE	COPY_MAP_DATA	197040000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	866384
+SHUFFLE	COMPRESS_BYTE_COUNT	240804
+SHUFFLE	COPY_MAP_DATA	17626000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	706260
+SHUFFLE	COMPRESS_BYTE_COUNT	222218
+SHUFFLE	COPY_MAP_DATA	12600000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	738683
+SHUFFLE	COMPRESS_BYTE_COUNT	233260
+SHUFFLE	COPY_MAP_DATA	13861000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	754013
+SHUFFLE	COMPRESS_BYTE_COUNT	229338
+SHUFFLE	COPY_MAP_DATA	13417000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	864847
+SHUFFLE	COMPRESS_BYTE_COUNT	261950
+SHUFFLE	COPY_MAP_DATA	34884000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	810219
+SHUFFLE	COMPRESS_BYTE_COUNT	248323
+SHUFFLE	COPY_MAP_DATA	147655000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	790793
+SHUFFLE	COMPRESS_BYTE_COUNT	238405
+SHUFFLE	COPY_MAP_DATA	14513000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	943903
+SHUFFLE	COMPRESS_BYTE_COUNT	260891
+SHUFFLE	COPY_MAP_DATA	15630000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	853103
+SHUFFLE	COMPRESS_BYTE_COUNT	249828
+SHUFFLE	COPY_MAP_DATA	14685000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	810113
+SHUFFLE	COMPRESS_BYTE_COUNT	248911
+SHUFFLE	COPY_MAP_DATA	17835000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	749398
+SHUFFLE	COMPRESS_BYTE_COUNT	228408
+SHUFFLE	COPY_MAP_DATA	452703000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	769558
+SHUFFLE	COMPRESS_BYTE_COUNT	228795
+SHUFFLE	COPY_MAP_DATA	13904000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	781315
+SHUFFLE	COMPRESS_BYTE_COUNT	233251
+SHUFFLE	COPY_MAP_DATA	9884014000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	740683
+SHUFFLE	COMPRESS_BYTE_COUNT	230569
+SHUFFLE	COPY_MAP_DATA	416577000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	987348
+SHUFFLE	COMPRESS_BYTE_COUNT	306176
+SHUFFLE	COPY_MAP_DATA	16749000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	669687
+SHUFFLE	COMPRESS_BYTE_COUNT	210674
+SHUFFLE	COPY_MAP_DATA	13193000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	706260
+SHUFFLE	COMPRESS_BYTE_COUNT	222218
+SHUFFLE	COPY_MAP_DATA	13942000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1125870
+SHUFFLE	COMPRESS_BYTE_COUNT	211076
+SHUFFLE	COPY_MAP_DATA	14401000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	664748
+SHUFFLE	COMPRESS_BYTE_COUNT	204422
+SHUFFLE	COPY_MAP_DATA	180408000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	727277
+SHUFFLE	COMPRESS_BYTE_COUNT	218294
+SHUFFLE	COPY_MAP_DATA	12685000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	700772
+SHUFFLE	COMPRESS_BYTE_COUNT	228442
+SHUFFLE	COPY_MAP_DATA	649174000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	801004
+SHUFFLE	COMPRESS_BYTE_COUNT	248548
+SHUFFLE	COPY_MAP_DATA	134971000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	783195
+SHUFFLE	COMPRESS_BYTE_COUNT	240404
+SHUFFLE	COPY_MAP_DATA	13012000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	808286
+SHUFFLE	COMPRESS_BYTE_COUNT	251038
+SHUFFLE	COPY_MAP_DATA	14175000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1028623
+SHUFFLE	COMPRESS_BYTE_COUNT	291339
+SHUFFLE	COPY_MAP_DATA	16922000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	805843
+SHUFFLE	COMPRESS_BYTE_COUNT	241155
+SHUFFLE	COPY_MAP_DATA	44810000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	746145
+SHUFFLE	COMPRESS_BYTE_COUNT	224791
+SHUFFLE	COPY_MAP_DATA	38616000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1413233
+SHUFFLE	COMPRESS_BYTE_COUNT	198555
+SHUFFLE	COPY_MAP_DATA	36547000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	871952
+SHUFFLE	COMPRESS_BYTE_COUNT	234839
+SHUFFLE	COPY_MAP_DATA	14106000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	809901
+SHUFFLE	COMPRESS_BYTE_COUNT	235939
+SHUFFLE	COPY_MAP_DATA	206500000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	785066
+SHUFFLE	COMPRESS_BYTE_COUNT	224232
+SHUFFLE	COPY_MAP_DATA	13775000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	829127
+SHUFFLE	COMPRESS_BYTE_COUNT	249743
+SHUFFLE	COPY_MAP_DATA	34061000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	769459
+SHUFFLE	COMPRESS_BYTE_COUNT	232527
+SHUFFLE	COPY_MAP_DATA	12280000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	621572
+SHUFFLE	COMPRESS_BYTE_COUNT	198602
+SHUFFLE	COPY_MAP_DATA	11992000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	836259
+SHUFFLE	COMPRESS_BYTE_COUNT	282817
+SHUFFLE	COPY_MAP_DATA	24564000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	766700
+SHUFFLE	COMPRESS_BYTE_COUNT	230971
+SHUFFLE	COPY_MAP_DATA	12845000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	945640
+SHUFFLE	COMPRESS_BYTE_COUNT	308595
+SHUFFLE	COPY_MAP_DATA	33934000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	752325
+SHUFFLE	COMPRESS_BYTE_COUNT	240565
+SHUFFLE	COPY_MAP_DATA	21556000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	225009141000
+MERGE	READ_WRITE	216950427000
+MERGE	READ_WRITE_COUNT	2
+MERGE	COMBINE	0
+MERGE	WRITE	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	33017478000
+SORT	READ_WRITE	32894752000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	177867848
+REDUCE	SETUP	317000
+REDUCE	SETUP_MEM	177867848
+REDUCE	CLEANUP	36000
+REDUCE	CLEANUP_MEM	127165224
+REDUCE	TOTAL_RUN	110416896000
+REDUCE	READ	8824953000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	95087971000
+REDUCE	WRITE	41093492000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	68782462
+REDUCE	VALUE_BYTE_COUNT	63186406
+REDUCE	REDUCE_MEM	127167272
+REDUCE	WRITE	13587000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	769125640943
@@ -0,0 +1,1333 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1917662
+SHUFFLE	COMPRESS_BYTE_COUNT	528604
+SHUFFLE	COPY_MAP_DATA	477681000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1991489
+SHUFFLE	COMPRESS_BYTE_COUNT	567439
+SHUFFLE	COPY_MAP_DATA	32457000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1959898
+SHUFFLE	COMPRESS_BYTE_COUNT	557671
+SHUFFLE	COPY_MAP_DATA	92629000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1725343
+SHUFFLE	COMPRESS_BYTE_COUNT	472450
+SHUFFLE	COPY_MAP_DATA	29410000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1960774
+SHUFFLE	COMPRESS_BYTE_COUNT	578598
+SHUFFLE	COPY_MAP_DATA	66911000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2019907
+SHUFFLE	COMPRESS_BYTE_COUNT	558544
+SHUFFLE	COPY_MAP_DATA	33410000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1983284
+SHUFFLE	COMPRESS_BYTE_COUNT	561782
+SHUFFLE	COPY_MAP_DATA	92770000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1906334
+SHUFFLE	COMPRESS_BYTE_COUNT	552358
+SHUFFLE	COPY_MAP_DATA	33705000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2012131
+SHUFFLE	COMPRESS_BYTE_COUNT	579272
+SHUFFLE	COPY_MAP_DATA	38918000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1893984
+SHUFFLE	COMPRESS_BYTE_COUNT	480259
+SHUFFLE	COPY_MAP_DATA	65663000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1988277
+SHUFFLE	COMPRESS_BYTE_COUNT	547066
+SHUFFLE	COPY_MAP_DATA	635253000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1917078
+SHUFFLE	COMPRESS_BYTE_COUNT	564722
+SHUFFLE	COPY_MAP_DATA	61897000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1934934
+SHUFFLE	COMPRESS_BYTE_COUNT	561422
+SHUFFLE	COPY_MAP_DATA	221642000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1968371
+SHUFFLE	COMPRESS_BYTE_COUNT	555432
+SHUFFLE	COPY_MAP_DATA	126121000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1800056
+SHUFFLE	COMPRESS_BYTE_COUNT	541976
+SHUFFLE	COPY_MAP_DATA	112462000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1930251
+SHUFFLE	COMPRESS_BYTE_COUNT	565535
+SHUFFLE	COPY_MAP_DATA	114105000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2040814
+SHUFFLE	COMPRESS_BYTE_COUNT	554660
+SHUFFLE	COPY_MAP_DATA	62952000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2004051
+SHUFFLE	COMPRESS_BYTE_COUNT	568471
+SHUFFLE	COPY_MAP_DATA	671533000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1790913
+SHUFFLE	COMPRESS_BYTE_COUNT	485704
+SHUFFLE	COPY_MAP_DATA	32436000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2181991
+SHUFFLE	COMPRESS_BYTE_COUNT	559687
+SHUFFLE	COPY_MAP_DATA	43964000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2044844
+SHUFFLE	COMPRESS_BYTE_COUNT	544209
+SHUFFLE	COPY_MAP_DATA	43172000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2004737
+SHUFFLE	COMPRESS_BYTE_COUNT	566725
+SHUFFLE	COPY_MAP_DATA	39410000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1951734
+SHUFFLE	COMPRESS_BYTE_COUNT	564871
+SHUFFLE	COPY_MAP_DATA	100887000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1935831
+SHUFFLE	COMPRESS_BYTE_COUNT	571160
+SHUFFLE	COPY_MAP_DATA	91031000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2087300
+SHUFFLE	COMPRESS_BYTE_COUNT	563131
+SHUFFLE	COPY_MAP_DATA	32863000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1857045
+SHUFFLE	COMPRESS_BYTE_COUNT	552926
+SHUFFLE	COPY_MAP_DATA	27811000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1943370
+SHUFFLE	COMPRESS_BYTE_COUNT	568333
+SHUFFLE	COPY_MAP_DATA	60458000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1930856
+SHUFFLE	COMPRESS_BYTE_COUNT	565045
+SHUFFLE	COPY_MAP_DATA	70695000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2157973
+SHUFFLE	COMPRESS_BYTE_COUNT	580579
+SHUFFLE	COPY_MAP_DATA	52951000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1888743
+SHUFFLE	COMPRESS_BYTE_COUNT	563062
+SHUFFLE	COPY_MAP_DATA	65645000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1838651
+SHUFFLE	COMPRESS_BYTE_COUNT	552576
+SHUFFLE	COPY_MAP_DATA	29854000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1831730
+SHUFFLE	COMPRESS_BYTE_COUNT	534126
+SHUFFLE	COPY_MAP_DATA	28016000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1722224
+SHUFFLE	COMPRESS_BYTE_COUNT	524170
+SHUFFLE	COPY_MAP_DATA	35625000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1868757
+SHUFFLE	COMPRESS_BYTE_COUNT	555318
+SHUFFLE	COPY_MAP_DATA	29671000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1924470
+SHUFFLE	COMPRESS_BYTE_COUNT	563820
+SHUFFLE	COPY_MAP_DATA	313161000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1953401
+SHUFFLE	COMPRESS_BYTE_COUNT	561442
+SHUFFLE	COPY_MAP_DATA	242107000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1863412
+SHUFFLE	COMPRESS_BYTE_COUNT	550913
+SHUFFLE	COPY_MAP_DATA	30036000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1808224
+SHUFFLE	COMPRESS_BYTE_COUNT	538808
+SHUFFLE	COPY_MAP_DATA	58659000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1773996
+SHUFFLE	COMPRESS_BYTE_COUNT	436111
+SHUFFLE	COPY_MAP_DATA	24034000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1784792
+SHUFFLE	COMPRESS_BYTE_COUNT	536956
+SHUFFLE	COPY_MAP_DATA	28353000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1873009
+SHUFFLE	COMPRESS_BYTE_COUNT	555894
+SHUFFLE	COPY_MAP_DATA	28955000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1566631
+SHUFFLE	COMPRESS_BYTE_COUNT	458565
+SHUFFLE	COPY_MAP_DATA	322639000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1839377
+SHUFFLE	COMPRESS_BYTE_COUNT	543913
+SHUFFLE	COPY_MAP_DATA	34290000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1883490
+SHUFFLE	COMPRESS_BYTE_COUNT	544496
+SHUFFLE	COPY_MAP_DATA	29349000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2002252
+SHUFFLE	COMPRESS_BYTE_COUNT	573186
+SHUFFLE	COPY_MAP_DATA	57416000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1951443
+SHUFFLE	COMPRESS_BYTE_COUNT	563736
+SHUFFLE	COPY_MAP_DATA	3133853000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1669788
+SHUFFLE	COMPRESS_BYTE_COUNT	476437
+SHUFFLE	COPY_MAP_DATA	26769000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1687833
+SHUFFLE	COMPRESS_BYTE_COUNT	493313
+SHUFFLE	COPY_MAP_DATA	82552000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1829074
+SHUFFLE	COMPRESS_BYTE_COUNT	538962
+SHUFFLE	COPY_MAP_DATA	543507000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1848177
+SHUFFLE	COMPRESS_BYTE_COUNT	550846
+SHUFFLE	COPY_MAP_DATA	262955000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1757497
+SHUFFLE	COMPRESS_BYTE_COUNT	503035
+SHUFFLE	COPY_MAP_DATA	1952454000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1692622
+SHUFFLE	COMPRESS_BYTE_COUNT	486952
+SHUFFLE	COPY_MAP_DATA	125428000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1831507
+SHUFFLE	COMPRESS_BYTE_COUNT	529103
+SHUFFLE	COPY_MAP_DATA	5281494000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1877030
+SHUFFLE	COMPRESS_BYTE_COUNT	528754
+SHUFFLE	COPY_MAP_DATA	27943000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1895270
+SHUFFLE	COMPRESS_BYTE_COUNT	552898
+SHUFFLE	COPY_MAP_DATA	59227000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1899813
+SHUFFLE	COMPRESS_BYTE_COUNT	528835
+SHUFFLE	COPY_MAP_DATA	27839000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1912524
+SHUFFLE	COMPRESS_BYTE_COUNT	548784
+SHUFFLE	COPY_MAP_DATA	30019000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1753511
+SHUFFLE	COMPRESS_BYTE_COUNT	525788
+SHUFFLE	COPY_MAP_DATA	28756000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1881965
+SHUFFLE	COMPRESS_BYTE_COUNT	547717
+SHUFFLE	COPY_MAP_DATA	47148000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1725405
+SHUFFLE	COMPRESS_BYTE_COUNT	523469
+SHUFFLE	COPY_MAP_DATA	86831000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1622175
+SHUFFLE	COMPRESS_BYTE_COUNT	478990
+SHUFFLE	COPY_MAP_DATA	617122000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1678068
+SHUFFLE	COMPRESS_BYTE_COUNT	487901
+SHUFFLE	COPY_MAP_DATA	25910000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1657171
+SHUFFLE	COMPRESS_BYTE_COUNT	479847
+SHUFFLE	COPY_MAP_DATA	24923000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1645771
+SHUFFLE	COMPRESS_BYTE_COUNT	479352
+SHUFFLE	COPY_MAP_DATA	734746000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1755201
+SHUFFLE	COMPRESS_BYTE_COUNT	485246
+SHUFFLE	COPY_MAP_DATA	25498000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1581420
+SHUFFLE	COMPRESS_BYTE_COUNT	456159
+SHUFFLE	COPY_MAP_DATA	35428000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1884664
+SHUFFLE	COMPRESS_BYTE_COUNT	541155
+SHUFFLE	COPY_MAP_DATA	31927000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1585318
+SHUFFLE	COMPRESS_BYTE_COUNT	446661
+SHUFFLE	COPY_MAP_DATA	24101000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1605811
+SHUFFLE	COMPRESS_BYTE_COUNT	468050
+SHUFFLE	COPY_MAP_DATA	23358000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1688292
+SHUFFLE	COMPRESS_BYTE_COUNT	481942
+SHUFFLE	COPY_MAP_DATA	95900000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1588935
+SHUFFLE	COMPRESS_BYTE_COUNT	456912
+SHUFFLE	COPY_MAP_DATA	23907000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1644901
+SHUFFLE	COMPRESS_BYTE_COUNT	474358
+SHUFFLE	COPY_MAP_DATA	27290000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1502806
+SHUFFLE	COMPRESS_BYTE_COUNT	439658
+SHUFFLE	COPY_MAP_DATA	30399000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1672636
+SHUFFLE	COMPRESS_BYTE_COUNT	479764
+SHUFFLE	COPY_MAP_DATA	247310000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1537902
+SHUFFLE	COMPRESS_BYTE_COUNT	446599
+SHUFFLE	COPY_MAP_DATA	577213000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1877621
+SHUFFLE	COMPRESS_BYTE_COUNT	573113
+SHUFFLE	COPY_MAP_DATA	33101000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1656549
+SHUFFLE	COMPRESS_BYTE_COUNT	460173
+SHUFFLE	COPY_MAP_DATA	428625000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1572577
+SHUFFLE	COMPRESS_BYTE_COUNT	465084
+SHUFFLE	COPY_MAP_DATA	301642000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1608206
+SHUFFLE	COMPRESS_BYTE_COUNT	474932
+SHUFFLE	COPY_MAP_DATA	73464000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1638691
+SHUFFLE	COMPRESS_BYTE_COUNT	477150
+SHUFFLE	COPY_MAP_DATA	31561000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1820914
+SHUFFLE	COMPRESS_BYTE_COUNT	528338
+SHUFFLE	COPY_MAP_DATA	7469967000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1843862
+SHUFFLE	COMPRESS_BYTE_COUNT	573792
+SHUFFLE	COPY_MAP_DATA	80695000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1637906
+SHUFFLE	COMPRESS_BYTE_COUNT	479400
+SHUFFLE	COPY_MAP_DATA	25640000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1648262
+SHUFFLE	COMPRESS_BYTE_COUNT	478313
+SHUFFLE	COPY_MAP_DATA	3329584000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1773919
+SHUFFLE	COMPRESS_BYTE_COUNT	527364
+SHUFFLE	COPY_MAP_DATA	26854000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1595326
+SHUFFLE	COMPRESS_BYTE_COUNT	469721
+SHUFFLE	COPY_MAP_DATA	44194000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1825407
+SHUFFLE	COMPRESS_BYTE_COUNT	550550
+SHUFFLE	COPY_MAP_DATA	268489000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	873232
+SHUFFLE	COMPRESS_BYTE_COUNT	242204
+SHUFFLE	COPY_MAP_DATA	1900807000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1435451
+SHUFFLE	COMPRESS_BYTE_COUNT	431763
+SHUFFLE	COPY_MAP_DATA	144438000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1532044
+SHUFFLE	COMPRESS_BYTE_COUNT	443886
+SHUFFLE	COPY_MAP_DATA	2629204000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1520227
+SHUFFLE	COMPRESS_BYTE_COUNT	439496
+SHUFFLE	COPY_MAP_DATA	108575000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1020754
+SHUFFLE	COMPRESS_BYTE_COUNT	269132
+SHUFFLE	COPY_MAP_DATA	193821000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	934254
+SHUFFLE	COMPRESS_BYTE_COUNT	267526
+SHUFFLE	COPY_MAP_DATA	2744617000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	856661
+SHUFFLE	COMPRESS_BYTE_COUNT	247482
+SHUFFLE	COPY_MAP_DATA	15339000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1013300
+SHUFFLE	COMPRESS_BYTE_COUNT	292669
+SHUFFLE	COPY_MAP_DATA	1154221000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	833098
+SHUFFLE	COMPRESS_BYTE_COUNT	243180
+SHUFFLE	COPY_MAP_DATA	25530000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1489891
+SHUFFLE	COMPRESS_BYTE_COUNT	452536
+SHUFFLE	COPY_MAP_DATA	155742000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1654208
+SHUFFLE	COMPRESS_BYTE_COUNT	468713
+SHUFFLE	COPY_MAP_DATA	1134820000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	892247
+SHUFFLE	COMPRESS_BYTE_COUNT	246823
+SHUFFLE	COPY_MAP_DATA	338469000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1432480
+SHUFFLE	COMPRESS_BYTE_COUNT	424891
+SHUFFLE	COPY_MAP_DATA	23218000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1473055
+SHUFFLE	COMPRESS_BYTE_COUNT	424968
+SHUFFLE	COPY_MAP_DATA	1256437000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1571539
+SHUFFLE	COMPRESS_BYTE_COUNT	467084
+SHUFFLE	COPY_MAP_DATA	121060000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1569140
+SHUFFLE	COMPRESS_BYTE_COUNT	455731
+SHUFFLE	COPY_MAP_DATA	2839939000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1682486
+SHUFFLE	COMPRESS_BYTE_COUNT	490085
+SHUFFLE	COPY_MAP_DATA	99894000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1544860
+SHUFFLE	COMPRESS_BYTE_COUNT	443596
+SHUFFLE	COPY_MAP_DATA	204622000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1028744
+SHUFFLE	COMPRESS_BYTE_COUNT	294361
+SHUFFLE	COPY_MAP_DATA	424694000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1481482
+SHUFFLE	COMPRESS_BYTE_COUNT	440218
+SHUFFLE	COPY_MAP_DATA	22392000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1763655
+SHUFFLE	COMPRESS_BYTE_COUNT	538277
+SHUFFLE	COPY_MAP_DATA	26684000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	960412
+SHUFFLE	COMPRESS_BYTE_COUNT	279788
+SHUFFLE	COPY_MAP_DATA	17003000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1760795
+SHUFFLE	COMPRESS_BYTE_COUNT	515346
+SHUFFLE	COPY_MAP_DATA	27247000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1084434
+SHUFFLE	COMPRESS_BYTE_COUNT	295960
+SHUFFLE	COPY_MAP_DATA	17536000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	966250
+SHUFFLE	COMPRESS_BYTE_COUNT	286166
+SHUFFLE	COPY_MAP_DATA	24969000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1631822
+SHUFFLE	COMPRESS_BYTE_COUNT	466126
+SHUFFLE	COPY_MAP_DATA	25395000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2154246
+SHUFFLE	COMPRESS_BYTE_COUNT	371779
+SHUFFLE	COPY_MAP_DATA	45306000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1622944
+SHUFFLE	COMPRESS_BYTE_COUNT	471807
+SHUFFLE	COPY_MAP_DATA	23500000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1632159
+SHUFFLE	COMPRESS_BYTE_COUNT	497337
+SHUFFLE	COPY_MAP_DATA	26529000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	974979
+SHUFFLE	COMPRESS_BYTE_COUNT	284221
+SHUFFLE	COPY_MAP_DATA	16726000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1048490
+SHUFFLE	COMPRESS_BYTE_COUNT	299351
+SHUFFLE	COPY_MAP_DATA	80587000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1809773
+SHUFFLE	COMPRESS_BYTE_COUNT	526418
+SHUFFLE	COPY_MAP_DATA	50407000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1521516
+SHUFFLE	COMPRESS_BYTE_COUNT	457107
+SHUFFLE	COPY_MAP_DATA	351945000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	965760
+SHUFFLE	COMPRESS_BYTE_COUNT	285535
+SHUFFLE	COPY_MAP_DATA	15733000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1723429
+SHUFFLE	COMPRESS_BYTE_COUNT	487272
+SHUFFLE	COPY_MAP_DATA	38313000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	929293
+SHUFFLE	COMPRESS_BYTE_COUNT	289799
+SHUFFLE	COPY_MAP_DATA	1082733000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1033330
+SHUFFLE	COMPRESS_BYTE_COUNT	298801
+SHUFFLE	COPY_MAP_DATA	330143000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1001080
+SHUFFLE	COMPRESS_BYTE_COUNT	291117
+SHUFFLE	COPY_MAP_DATA	15365000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	999418
+SHUFFLE	COMPRESS_BYTE_COUNT	293092
+SHUFFLE	COPY_MAP_DATA	175552000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1020820
+SHUFFLE	COMPRESS_BYTE_COUNT	302586
+SHUFFLE	COPY_MAP_DATA	440514000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	989475
+SHUFFLE	COMPRESS_BYTE_COUNT	293536
+SHUFFLE	COPY_MAP_DATA	3915373000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	951414
+SHUFFLE	COMPRESS_BYTE_COUNT	268393
+SHUFFLE	COPY_MAP_DATA	197045000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1012072
+SHUFFLE	COMPRESS_BYTE_COUNT	292174
+SHUFFLE	COPY_MAP_DATA	268998000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	971419
+SHUFFLE	COMPRESS_BYTE_COUNT	290159
+SHUFFLE	COPY_MAP_DATA	108285000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	987435
+SHUFFLE	COMPRESS_BYTE_COUNT	291630
+SHUFFLE	COPY_MAP_DATA	123345000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	983868
+SHUFFLE	COMPRESS_BYTE_COUNT	293426
+SHUFFLE	COPY_MAP_DATA	105698000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	974549
+SHUFFLE	COMPRESS_BYTE_COUNT	295095
+SHUFFLE	COPY_MAP_DATA	18639000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1002016
+SHUFFLE	COMPRESS_BYTE_COUNT	301655
+SHUFFLE	COPY_MAP_DATA	219691000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	965276
+SHUFFLE	COMPRESS_BYTE_COUNT	292854
+SHUFFLE	COPY_MAP_DATA	411493000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	998588
+SHUFFLE	COMPRESS_BYTE_COUNT	291961
+SHUFFLE	COPY_MAP_DATA	16915000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1088714
+SHUFFLE	COMPRESS_BYTE_COUNT	296415
+SHUFFLE	COPY_MAP_DATA	1952788000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	977043
+SHUFFLE	COMPRESS_BYTE_COUNT	288445
+SHUFFLE	COPY_MAP_DATA	51084000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1038293
+SHUFFLE	COMPRESS_BYTE_COUNT	311691
+SHUFFLE	COPY_MAP_DATA	17958000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	971959
+SHUFFLE	COMPRESS_BYTE_COUNT	295380
+SHUFFLE	COPY_MAP_DATA	23387000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	986460
+SHUFFLE	COMPRESS_BYTE_COUNT	300009
+SHUFFLE	COPY_MAP_DATA	31267000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	991313
+SHUFFLE	COMPRESS_BYTE_COUNT	303632
+SHUFFLE	COPY_MAP_DATA	16757000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	979264
+SHUFFLE	COMPRESS_BYTE_COUNT	296958
+SHUFFLE	COPY_MAP_DATA	16460000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1124645
+SHUFFLE	COMPRESS_BYTE_COUNT	309138
+SHUFFLE	COPY_MAP_DATA	125965000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	951594
+SHUFFLE	COMPRESS_BYTE_COUNT	293977
+SHUFFLE	COPY_MAP_DATA	28673000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	984556
+SHUFFLE	COMPRESS_BYTE_COUNT	299931
+SHUFFLE	COPY_MAP_DATA	1062212000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	984317
+SHUFFLE	COMPRESS_BYTE_COUNT	297994
+SHUFFLE	COPY_MAP_DATA	213406000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	922148
+SHUFFLE	COMPRESS_BYTE_COUNT	275621
+SHUFFLE	COPY_MAP_DATA	165257000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	966627
+SHUFFLE	COMPRESS_BYTE_COUNT	291154
+SHUFFLE	COPY_MAP_DATA	17754000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	977840
+SHUFFLE	COMPRESS_BYTE_COUNT	294378
+SHUFFLE	COPY_MAP_DATA	37406000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	976459
+SHUFFLE	COMPRESS_BYTE_COUNT	305111
+SHUFFLE	COPY_MAP_DATA	375478000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	982060
+SHUFFLE	COMPRESS_BYTE_COUNT	287103
+SHUFFLE	COPY_MAP_DATA	15530000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	979199
+SHUFFLE	COMPRESS_BYTE_COUNT	297054
+SHUFFLE	COPY_MAP_DATA	235921000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	980938
+SHUFFLE	COMPRESS_BYTE_COUNT	290963
+SHUFFLE	COPY_MAP_DATA	1168173000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	938883
+SHUFFLE	COMPRESS_BYTE_COUNT	290505
+SHUFFLE	COPY_MAP_DATA	96559000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	968418
+SHUFFLE	COMPRESS_BYTE_COUNT	299899
+SHUFFLE	COPY_MAP_DATA	237069000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	931530
+SHUFFLE	COMPRESS_BYTE_COUNT	292079
+SHUFFLE	COPY_MAP_DATA	17444000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	995168
+SHUFFLE	COMPRESS_BYTE_COUNT	269703
+SHUFFLE	COPY_MAP_DATA	272889000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	960215
+SHUFFLE	COMPRESS_BYTE_COUNT	295548
+SHUFFLE	COPY_MAP_DATA	369663000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	962249
+SHUFFLE	COMPRESS_BYTE_COUNT	290760
+SHUFFLE	COPY_MAP_DATA	189920000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1180913
+SHUFFLE	COMPRESS_BYTE_COUNT	299763
+SHUFFLE	COPY_MAP_DATA	10949651000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	997497
+SHUFFLE	COMPRESS_BYTE_COUNT	292186
+SHUFFLE	COPY_MAP_DATA	593981000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1027705
+SHUFFLE	COMPRESS_BYTE_COUNT	305011
+SHUFFLE	COPY_MAP_DATA	75481000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	935314
+SHUFFLE	COMPRESS_BYTE_COUNT	283231
+SHUFFLE	COPY_MAP_DATA	69238000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	951277
+SHUFFLE	COMPRESS_BYTE_COUNT	297529
+SHUFFLE	COPY_MAP_DATA	23156000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	959121
+SHUFFLE	COMPRESS_BYTE_COUNT	294463
+SHUFFLE	COPY_MAP_DATA	20979000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1007242
+SHUFFLE	COMPRESS_BYTE_COUNT	299851
+SHUFFLE	COPY_MAP_DATA	113613000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	955737
+SHUFFLE	COMPRESS_BYTE_COUNT	287373
+SHUFFLE	COPY_MAP_DATA	15766000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	903922
+SHUFFLE	COMPRESS_BYTE_COUNT	280924
+SHUFFLE	COPY_MAP_DATA	15437000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	965351
+SHUFFLE	COMPRESS_BYTE_COUNT	294185
+SHUFFLE	COPY_MAP_DATA	25992000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	970038
+SHUFFLE	COMPRESS_BYTE_COUNT	293504
+SHUFFLE	COPY_MAP_DATA	17096000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	876129
+SHUFFLE	COMPRESS_BYTE_COUNT	276826
+SHUFFLE	COPY_MAP_DATA	194672000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	965359
+SHUFFLE	COMPRESS_BYTE_COUNT	299683
+SHUFFLE	COPY_MAP_DATA	16413000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	986776
+SHUFFLE	COMPRESS_BYTE_COUNT	294926
+SHUFFLE	COPY_MAP_DATA	30414000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	971413
+SHUFFLE	COMPRESS_BYTE_COUNT	296634
+SHUFFLE	COPY_MAP_DATA	36166000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	985550
+SHUFFLE	COMPRESS_BYTE_COUNT	292907
+SHUFFLE	COPY_MAP_DATA	15901000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	947535
+SHUFFLE	COMPRESS_BYTE_COUNT	291890
+SHUFFLE	COPY_MAP_DATA	188211000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	920327
+SHUFFLE	COMPRESS_BYTE_COUNT	287067
+SHUFFLE	COPY_MAP_DATA	19552000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	959819
+SHUFFLE	COMPRESS_BYTE_COUNT	300463
+SHUFFLE	COPY_MAP_DATA	18052000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	909512
+SHUFFLE	COMPRESS_BYTE_COUNT	283596
+SHUFFLE	COPY_MAP_DATA	15003000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	928188
+SHUFFLE	COMPRESS_BYTE_COUNT	284757
+SHUFFLE	COPY_MAP_DATA	17264000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	957660
+SHUFFLE	COMPRESS_BYTE_COUNT	291941
+SHUFFLE	COPY_MAP_DATA	34870000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	887943
+SHUFFLE	COMPRESS_BYTE_COUNT	276934
+SHUFFLE	COPY_MAP_DATA	17947000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	909296
+SHUFFLE	COMPRESS_BYTE_COUNT	281786
+SHUFFLE	COPY_MAP_DATA	16300000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	879528
+SHUFFLE	COMPRESS_BYTE_COUNT	275860
+SHUFFLE	COPY_MAP_DATA	15516000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	989196
+SHUFFLE	COMPRESS_BYTE_COUNT	295775
+SHUFFLE	COPY_MAP_DATA	23498000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	896418
+SHUFFLE	COMPRESS_BYTE_COUNT	272667
+SHUFFLE	COPY_MAP_DATA	216298000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	881719
+SHUFFLE	COMPRESS_BYTE_COUNT	273242
+SHUFFLE	COPY_MAP_DATA	604633000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	884899
+SHUFFLE	COMPRESS_BYTE_COUNT	278553
+SHUFFLE	COPY_MAP_DATA	138640000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	964837
+SHUFFLE	COMPRESS_BYTE_COUNT	296819
+SHUFFLE	COPY_MAP_DATA	614629000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	910387
+SHUFFLE	COMPRESS_BYTE_COUNT	278217
+SHUFFLE	COPY_MAP_DATA	776299000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	883751
+SHUFFLE	COMPRESS_BYTE_COUNT	282218
+SHUFFLE	COPY_MAP_DATA	15525000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	944823
+SHUFFLE	COMPRESS_BYTE_COUNT	291752
+SHUFFLE	COPY_MAP_DATA	15928000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	945325
+SHUFFLE	COMPRESS_BYTE_COUNT	280594
+SHUFFLE	COPY_MAP_DATA	14229000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	924109
+SHUFFLE	COMPRESS_BYTE_COUNT	290478
+SHUFFLE	COPY_MAP_DATA	32656000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	962524
+SHUFFLE	COMPRESS_BYTE_COUNT	297018
+SHUFFLE	COPY_MAP_DATA	53713000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	891660
+SHUFFLE	COMPRESS_BYTE_COUNT	283147
+SHUFFLE	COPY_MAP_DATA	608812000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	875870
+SHUFFLE	COMPRESS_BYTE_COUNT	268576
+SHUFFLE	COPY_MAP_DATA	17276000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	965164
+SHUFFLE	COMPRESS_BYTE_COUNT	290169
+SHUFFLE	COPY_MAP_DATA	240261000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	898055
+SHUFFLE	COMPRESS_BYTE_COUNT	272007
+SHUFFLE	COPY_MAP_DATA	15502000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	877492
+SHUFFLE	COMPRESS_BYTE_COUNT	254482
+SHUFFLE	COPY_MAP_DATA	313016000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	912046
+SHUFFLE	COMPRESS_BYTE_COUNT	280685
+SHUFFLE	COPY_MAP_DATA	1060138000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	843126
+SHUFFLE	COMPRESS_BYTE_COUNT	267619
+SHUFFLE	COPY_MAP_DATA	253683000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	824184
+SHUFFLE	COMPRESS_BYTE_COUNT	252676
+SHUFFLE	COPY_MAP_DATA	19544000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	912115
+SHUFFLE	COMPRESS_BYTE_COUNT	287225
+SHUFFLE	COPY_MAP_DATA	150029000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	916566
+SHUFFLE	COMPRESS_BYTE_COUNT	276927
+SHUFFLE	COPY_MAP_DATA	215233000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	918328
+SHUFFLE	COMPRESS_BYTE_COUNT	274874
+SHUFFLE	COPY_MAP_DATA	50531000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	975915
+SHUFFLE	COMPRESS_BYTE_COUNT	287877
+SHUFFLE	COPY_MAP_DATA	437620000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	901117
+SHUFFLE	COMPRESS_BYTE_COUNT	260867
+SHUFFLE	COPY_MAP_DATA	19706000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	971163
+SHUFFLE	COMPRESS_BYTE_COUNT	282750
+SHUFFLE	COPY_MAP_DATA	32133000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	837327
+SHUFFLE	COMPRESS_BYTE_COUNT	265587
+SHUFFLE	COPY_MAP_DATA	16007000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	957035
+SHUFFLE	COMPRESS_BYTE_COUNT	292261
+SHUFFLE	COPY_MAP_DATA	17185000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	853972
+SHUFFLE	COMPRESS_BYTE_COUNT	256039
+SHUFFLE	COPY_MAP_DATA	41969000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	778592
+SHUFFLE	COMPRESS_BYTE_COUNT	241009
+SHUFFLE	COPY_MAP_DATA	49084000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	845879
+SHUFFLE	COMPRESS_BYTE_COUNT	267944
+SHUFFLE	COPY_MAP_DATA	29520000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	790806
+SHUFFLE	COMPRESS_BYTE_COUNT	243252
+SHUFFLE	COPY_MAP_DATA	16132000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	955491
+SHUFFLE	COMPRESS_BYTE_COUNT	278019
+SHUFFLE	COPY_MAP_DATA	445406000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	866528
+SHUFFLE	COMPRESS_BYTE_COUNT	254335
+SHUFFLE	COPY_MAP_DATA	14534000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	867181
+SHUFFLE	COMPRESS_BYTE_COUNT	255592
+SHUFFLE	COPY_MAP_DATA	21551000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	827820
+SHUFFLE	COMPRESS_BYTE_COUNT	250566
+SHUFFLE	COPY_MAP_DATA	330152000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	887386
+SHUFFLE	COMPRESS_BYTE_COUNT	267221
+SHUFFLE	COPY_MAP_DATA	1696052000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	982385
+SHUFFLE	COMPRESS_BYTE_COUNT	291130
+SHUFFLE	COPY_MAP_DATA	5416216000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	872748
+SHUFFLE	COMPRESS_BYTE_COUNT	270760
+SHUFFLE	COPY_MAP_DATA	21771000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	850757
+SHUFFLE	COMPRESS_BYTE_COUNT	261184
+SHUFFLE	COPY_MAP_DATA	14158000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	907489
+SHUFFLE	COMPRESS_BYTE_COUNT	247756
+SHUFFLE	COPY_MAP_DATA	6440233000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	849124
+SHUFFLE	COMPRESS_BYTE_COUNT	257733
+SHUFFLE	COPY_MAP_DATA	15390000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	815687
+SHUFFLE	COMPRESS_BYTE_COUNT	250218
+SHUFFLE	COPY_MAP_DATA	15379000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	880007
+SHUFFLE	COMPRESS_BYTE_COUNT	266459
+SHUFFLE	COPY_MAP_DATA	15255000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	797823
+SHUFFLE	COMPRESS_BYTE_COUNT	249219
+SHUFFLE	COPY_MAP_DATA	44703000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	986236
+SHUFFLE	COMPRESS_BYTE_COUNT	220631
+SHUFFLE	COPY_MAP_DATA	15992000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1008796
+SHUFFLE	COMPRESS_BYTE_COUNT	291582
+SHUFFLE	COPY_MAP_DATA	34349000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	882040
+SHUFFLE	COMPRESS_BYTE_COUNT	258145
+SHUFFLE	COPY_MAP_DATA	222086000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	743589
+SHUFFLE	COMPRESS_BYTE_COUNT	232018
+SHUFFLE	COPY_MAP_DATA	253704000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	814113
+SHUFFLE	COMPRESS_BYTE_COUNT	241549
+SHUFFLE	COPY_MAP_DATA	13692000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	732988
+SHUFFLE	COMPRESS_BYTE_COUNT	231794
+SHUFFLE	COPY_MAP_DATA	25661000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	741823
+SHUFFLE	COMPRESS_BYTE_COUNT	227990
+SHUFFLE	COPY_MAP_DATA	413070000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	847714
+SHUFFLE	COMPRESS_BYTE_COUNT	254104
+SHUFFLE	COPY_MAP_DATA	214810000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	861225
+SHUFFLE	COMPRESS_BYTE_COUNT	254476
+SHUFFLE	COPY_MAP_DATA	282152000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	804094
+SHUFFLE	COMPRESS_BYTE_COUNT	240282
+SHUFFLE	COPY_MAP_DATA	15330000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	828443
+SHUFFLE	COMPRESS_BYTE_COUNT	250357
+SHUFFLE	COPY_MAP_DATA	15177000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	808303
+SHUFFLE	COMPRESS_BYTE_COUNT	233292
+SHUFFLE	COPY_MAP_DATA	17452000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	774219
+SHUFFLE	COMPRESS_BYTE_COUNT	235593
+SHUFFLE	COPY_MAP_DATA	145469000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	800449
+SHUFFLE	COMPRESS_BYTE_COUNT	243727
+SHUFFLE	COPY_MAP_DATA	35866000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	838652
+SHUFFLE	COMPRESS_BYTE_COUNT	247798
+SHUFFLE	COPY_MAP_DATA	46292000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	842481
+SHUFFLE	COMPRESS_BYTE_COUNT	254356
+SHUFFLE	COPY_MAP_DATA	15562000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	961599
+SHUFFLE	COMPRESS_BYTE_COUNT	281690
+SHUFFLE	COPY_MAP_DATA	909021000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	863772
+SHUFFLE	COMPRESS_BYTE_COUNT	265103
+SHUFFLE	COPY_MAP_DATA	13244000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	811513
+SHUFFLE	COMPRESS_BYTE_COUNT	245872
+SHUFFLE	COPY_MAP_DATA	16385000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	859317
+SHUFFLE	COMPRESS_BYTE_COUNT	264051
+SHUFFLE	COPY_MAP_DATA	42608000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	798334
+SHUFFLE	COMPRESS_BYTE_COUNT	237798
+SHUFFLE	COPY_MAP_DATA	111946000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	813934
+SHUFFLE	COMPRESS_BYTE_COUNT	246957
+SHUFFLE	COPY_MAP_DATA	15256000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	865745
+SHUFFLE	COMPRESS_BYTE_COUNT	232150
+SHUFFLE	COPY_MAP_DATA	212844000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1144635
+SHUFFLE	COMPRESS_BYTE_COUNT	358633
+SHUFFLE	COPY_MAP_DATA	19934000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	796081
+SHUFFLE	COMPRESS_BYTE_COUNT	234519
+SHUFFLE	COPY_MAP_DATA	370443000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	761066
+SHUFFLE	COMPRESS_BYTE_COUNT	235584
+SHUFFLE	COPY_MAP_DATA	220269000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	787750
+SHUFFLE	COMPRESS_BYTE_COUNT	235539
+SHUFFLE	COPY_MAP_DATA	210528000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	864431
+SHUFFLE	COMPRESS_BYTE_COUNT	257703
+SHUFFLE	COPY_MAP_DATA	86564000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	753343
+SHUFFLE	COMPRESS_BYTE_COUNT	226719
+SHUFFLE	COPY_MAP_DATA	12843000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	763332
+SHUFFLE	COMPRESS_BYTE_COUNT	229841
+SHUFFLE	COPY_MAP_DATA	1034978000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	953838
+SHUFFLE	COMPRESS_BYTE_COUNT	270721
+SHUFFLE	COPY_MAP_DATA	22304000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	794274
+SHUFFLE	COMPRESS_BYTE_COUNT	242939
+SHUFFLE	COPY_MAP_DATA	15755000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	761933
+SHUFFLE	COMPRESS_BYTE_COUNT	232534
+SHUFFLE	COPY_MAP_DATA	39837000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	852927
+SHUFFLE	COMPRESS_BYTE_COUNT	265922
+SHUFFLE	COPY_MAP_DATA	16937000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	931657
+SHUFFLE	COMPRESS_BYTE_COUNT	281636
+SHUFFLE	COPY_MAP_DATA	5337269000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	790645
+SHUFFLE	COMPRESS_BYTE_COUNT	241386
+SHUFFLE	COPY_MAP_DATA	126429000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	757575
+SHUFFLE	COMPRESS_BYTE_COUNT	224731
+SHUFFLE	COPY_MAP_DATA	239089000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	814298
+SHUFFLE	COMPRESS_BYTE_COUNT	238978
+SHUFFLE	COPY_MAP_DATA	14185000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	783088
+SHUFFLE	COMPRESS_BYTE_COUNT	235033
+SHUFFLE	COPY_MAP_DATA	27783000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	762539
+SHUFFLE	COMPRESS_BYTE_COUNT	234370
+SHUFFLE	COPY_MAP_DATA	51064000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	766885
+SHUFFLE	COMPRESS_BYTE_COUNT	234656
+SHUFFLE	COPY_MAP_DATA	21440000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	823863
+SHUFFLE	COMPRESS_BYTE_COUNT	240871
+SHUFFLE	COPY_MAP_DATA	540466000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	810547
+SHUFFLE	COMPRESS_BYTE_COUNT	242218
+SHUFFLE	COPY_MAP_DATA	417155000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	748407
+SHUFFLE	COMPRESS_BYTE_COUNT	225873
+SHUFFLE	COPY_MAP_DATA	69221000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	766886
+SHUFFLE	COMPRESS_BYTE_COUNT	227931
+SHUFFLE	COPY_MAP_DATA	179356000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	777838
+SHUFFLE	COMPRESS_BYTE_COUNT	234155
+SHUFFLE	COPY_MAP_DATA	93877000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	728589
+SHUFFLE	COMPRESS_BYTE_COUNT	218502
+SHUFFLE	COPY_MAP_DATA	231986000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	945977
+SHUFFLE	COMPRESS_BYTE_COUNT	276425
+SHUFFLE	COPY_MAP_DATA	16600000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1046041
+SHUFFLE	COMPRESS_BYTE_COUNT	338721
+SHUFFLE	COPY_MAP_DATA	18390000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	778390
+SHUFFLE	COMPRESS_BYTE_COUNT	230741
+SHUFFLE	COPY_MAP_DATA	14297000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	821887
+SHUFFLE	COMPRESS_BYTE_COUNT	247348
+SHUFFLE	COPY_MAP_DATA	15041000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	826377
+SHUFFLE	COMPRESS_BYTE_COUNT	247623
+SHUFFLE	COPY_MAP_DATA	14532000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	862571
+SHUFFLE	COMPRESS_BYTE_COUNT	259350
+SHUFFLE	COPY_MAP_DATA	52371000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	777017
+SHUFFLE	COMPRESS_BYTE_COUNT	228068
+SHUFFLE	COPY_MAP_DATA	251915000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	855557
+SHUFFLE	COMPRESS_BYTE_COUNT	255700
+SHUFFLE	COPY_MAP_DATA	36884000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	860070
+SHUFFLE	COMPRESS_BYTE_COUNT	259806
+SHUFFLE	COPY_MAP_DATA	22195000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	752566
+SHUFFLE	COMPRESS_BYTE_COUNT	234398
+SHUFFLE	COPY_MAP_DATA	210543000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	776122
+SHUFFLE	COMPRESS_BYTE_COUNT	231737
+SHUFFLE	COPY_MAP_DATA	17805000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	708184
+SHUFFLE	COMPRESS_BYTE_COUNT	222778
+SHUFFLE	COPY_MAP_DATA	74956000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	777137
+SHUFFLE	COMPRESS_BYTE_COUNT	234713
+SHUFFLE	COPY_MAP_DATA	14204000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	792005
+SHUFFLE	COMPRESS_BYTE_COUNT	238167
+SHUFFLE	COPY_MAP_DATA	1685178000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	766232
+SHUFFLE	COMPRESS_BYTE_COUNT	231418
+SHUFFLE	COPY_MAP_DATA	13420000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	765707
+SHUFFLE	COMPRESS_BYTE_COUNT	236865
+SHUFFLE	COPY_MAP_DATA	605918000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	821263
+SHUFFLE	COMPRESS_BYTE_COUNT	250846
+SHUFFLE	COPY_MAP_DATA	15407000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	910480
+SHUFFLE	COMPRESS_BYTE_COUNT	268663
+SHUFFLE	COPY_MAP_DATA	19722000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	882970
+SHUFFLE	COMPRESS_BYTE_COUNT	258756
+SHUFFLE	COPY_MAP_DATA	14287000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	876938
+SHUFFLE	COMPRESS_BYTE_COUNT	253447
+SHUFFLE	COPY_MAP_DATA	15731000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	789197
+SHUFFLE	COMPRESS_BYTE_COUNT	238376
+SHUFFLE	COPY_MAP_DATA	31658000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	729458
+SHUFFLE	COMPRESS_BYTE_COUNT	224601
+SHUFFLE	COPY_MAP_DATA	11461000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	733649
+SHUFFLE	COMPRESS_BYTE_COUNT	226046
+SHUFFLE	COPY_MAP_DATA	13447000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	844818
+SHUFFLE	COMPRESS_BYTE_COUNT	245165
+SHUFFLE	COPY_MAP_DATA	8338959000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	829140
+SHUFFLE	COMPRESS_BYTE_COUNT	251375
+SHUFFLE	COPY_MAP_DATA	176572000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1025514
+SHUFFLE	COMPRESS_BYTE_COUNT	316733
+SHUFFLE	COPY_MAP_DATA	26148000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	691864
+SHUFFLE	COMPRESS_BYTE_COUNT	215494
+SHUFFLE	COPY_MAP_DATA	874295000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	778830
+SHUFFLE	COMPRESS_BYTE_COUNT	175737
+SHUFFLE	COPY_MAP_DATA	12508000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	737327
+SHUFFLE	COMPRESS_BYTE_COUNT	233412
+SHUFFLE	COPY_MAP_DATA	16362000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	708184
+SHUFFLE	COMPRESS_BYTE_COUNT	222778
+SHUFFLE	COPY_MAP_DATA	129596000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	760427
+SHUFFLE	COMPRESS_BYTE_COUNT	223549
+SHUFFLE	COPY_MAP_DATA	22831000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	837892
+SHUFFLE	COMPRESS_BYTE_COUNT	255709
+SHUFFLE	COPY_MAP_DATA	16620000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	706825
+SHUFFLE	COMPRESS_BYTE_COUNT	207395
+SHUFFLE	COPY_MAP_DATA	13065000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	797993
+SHUFFLE	COMPRESS_BYTE_COUNT	244071
+SHUFFLE	COPY_MAP_DATA	13472000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	857239
+SHUFFLE	COMPRESS_BYTE_COUNT	249656
+SHUFFLE	COPY_MAP_DATA	27326000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	802984
+SHUFFLE	COMPRESS_BYTE_COUNT	250577
+SHUFFLE	COPY_MAP_DATA	23755000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	717933
+SHUFFLE	COMPRESS_BYTE_COUNT	216074
+SHUFFLE	COPY_MAP_DATA	34092000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1168012
+SHUFFLE	COMPRESS_BYTE_COUNT	160753
+SHUFFLE	COPY_MAP_DATA	12440000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	871397
+SHUFFLE	COMPRESS_BYTE_COUNT	256223
+SHUFFLE	COPY_MAP_DATA	272183000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	752026
+SHUFFLE	COMPRESS_BYTE_COUNT	228438
+SHUFFLE	COPY_MAP_DATA	192957000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	643285
+SHUFFLE	COMPRESS_BYTE_COUNT	201601
+SHUFFLE	COPY_MAP_DATA	230238000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	954218
+SHUFFLE	COMPRESS_BYTE_COUNT	284914
+SHUFFLE	COPY_MAP_DATA	16753000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	718534
+SHUFFLE	COMPRESS_BYTE_COUNT	219256
+SHUFFLE	COPY_MAP_DATA	11750000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	812951
+SHUFFLE	COMPRESS_BYTE_COUNT	233697
+SHUFFLE	COPY_MAP_DATA	12621000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	777272
+SHUFFLE	COMPRESS_BYTE_COUNT	234056
+SHUFFLE	COPY_MAP_DATA	33076000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	910730
+SHUFFLE	COMPRESS_BYTE_COUNT	288275
+SHUFFLE	COPY_MAP_DATA	48372000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	787287
+SHUFFLE	COMPRESS_BYTE_COUNT	233211
+SHUFFLE	COPY_MAP_DATA	24593000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1009722
+SHUFFLE	COMPRESS_BYTE_COUNT	316282
+SHUFFLE	COPY_MAP_DATA	17003000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	781404
+SHUFFLE	COMPRESS_BYTE_COUNT	247603
+SHUFFLE	COPY_MAP_DATA	14764000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	241114776000
+MERGE	READ_WRITE	240542362000
+MERGE	READ_WRITE_COUNT	2
+MERGE	COMBINE	0
+MERGE	WRITE	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	36647500000
+SORT	READ_WRITE	36510080000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	190484256
+REDUCE	SETUP	319000
+REDUCE	SETUP_MEM	190484256
+REDUCE	CLEANUP	27000
+REDUCE	CLEANUP_MEM	157845120
+REDUCE	TOTAL_RUN	100708320000
+REDUCE	READ	9024897000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	85270946000
+REDUCE	WRITE	28749811000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	71423593
+REDUCE	VALUE_BYTE_COUNT	65248429
+REDUCE	REDUCE_MEM	157847168
+REDUCE	WRITE	13915000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	763622955527
@@ -0,0 +1,1333 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1934914
+SHUFFLE	COMPRESS_BYTE_COUNT	547173
+SHUFFLE	COPY_MAP_DATA	192213000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1893001
+SHUFFLE	COMPRESS_BYTE_COUNT	550840
+SHUFFLE	COPY_MAP_DATA	1513409000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1891541
+SHUFFLE	COMPRESS_BYTE_COUNT	542850
+SHUFFLE	COPY_MAP_DATA	42761000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1900132
+SHUFFLE	COMPRESS_BYTE_COUNT	551618
+SHUFFLE	COPY_MAP_DATA	32699000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1774231
+SHUFFLE	COMPRESS_BYTE_COUNT	537598
+SHUFFLE	COPY_MAP_DATA	82151000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1833768
+SHUFFLE	COMPRESS_BYTE_COUNT	516135
+SHUFFLE	COPY_MAP_DATA	56415000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1829643
+SHUFFLE	COMPRESS_BYTE_COUNT	550306
+SHUFFLE	COPY_MAP_DATA	78479000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1821395
+SHUFFLE	COMPRESS_BYTE_COUNT	537284
+SHUFFLE	COPY_MAP_DATA	33646000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1849717
+SHUFFLE	COMPRESS_BYTE_COUNT	551758
+SHUFFLE	COPY_MAP_DATA	31740000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1752941
+SHUFFLE	COMPRESS_BYTE_COUNT	460283
+SHUFFLE	COPY_MAP_DATA	158913000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1940640
+SHUFFLE	COMPRESS_BYTE_COUNT	557997
+SHUFFLE	COPY_MAP_DATA	44827000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1893211
+SHUFFLE	COMPRESS_BYTE_COUNT	565983
+SHUFFLE	COPY_MAP_DATA	44474000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1954060
+SHUFFLE	COMPRESS_BYTE_COUNT	565689
+SHUFFLE	COPY_MAP_DATA	43251000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1918094
+SHUFFLE	COMPRESS_BYTE_COUNT	539218
+SHUFFLE	COPY_MAP_DATA	32723000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1600787
+SHUFFLE	COMPRESS_BYTE_COUNT	453879
+SHUFFLE	COPY_MAP_DATA	256205000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1973717
+SHUFFLE	COMPRESS_BYTE_COUNT	531442
+SHUFFLE	COPY_MAP_DATA	31101000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1961534
+SHUFFLE	COMPRESS_BYTE_COUNT	543534
+SHUFFLE	COPY_MAP_DATA	35358000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1847570
+SHUFFLE	COMPRESS_BYTE_COUNT	561083
+SHUFFLE	COPY_MAP_DATA	40779000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1972019
+SHUFFLE	COMPRESS_BYTE_COUNT	566239
+SHUFFLE	COPY_MAP_DATA	30178000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1894613
+SHUFFLE	COMPRESS_BYTE_COUNT	552679
+SHUFFLE	COPY_MAP_DATA	29341000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1936647
+SHUFFLE	COMPRESS_BYTE_COUNT	554871
+SHUFFLE	COPY_MAP_DATA	30053000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1896295
+SHUFFLE	COMPRESS_BYTE_COUNT	556685
+SHUFFLE	COPY_MAP_DATA	50483000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1922937
+SHUFFLE	COMPRESS_BYTE_COUNT	565147
+SHUFFLE	COPY_MAP_DATA	68808000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1913344
+SHUFFLE	COMPRESS_BYTE_COUNT	534412
+SHUFFLE	COPY_MAP_DATA	51964000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1808367
+SHUFFLE	COMPRESS_BYTE_COUNT	539692
+SHUFFLE	COPY_MAP_DATA	36072000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2013708
+SHUFFLE	COMPRESS_BYTE_COUNT	554797
+SHUFFLE	COPY_MAP_DATA	33370000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1927062
+SHUFFLE	COMPRESS_BYTE_COUNT	551809
+SHUFFLE	COPY_MAP_DATA	388603000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1700316
+SHUFFLE	COMPRESS_BYTE_COUNT	473512
+SHUFFLE	COPY_MAP_DATA	23719000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2057710
+SHUFFLE	COMPRESS_BYTE_COUNT	568334
+SHUFFLE	COPY_MAP_DATA	28394000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1878387
+SHUFFLE	COMPRESS_BYTE_COUNT	554218
+SHUFFLE	COPY_MAP_DATA	26837000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1794690
+SHUFFLE	COMPRESS_BYTE_COUNT	544405
+SHUFFLE	COPY_MAP_DATA	59481000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1706753
+SHUFFLE	COMPRESS_BYTE_COUNT	520486
+SHUFFLE	COPY_MAP_DATA	27573000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1710650
+SHUFFLE	COMPRESS_BYTE_COUNT	521149
+SHUFFLE	COPY_MAP_DATA	26069000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1854272
+SHUFFLE	COMPRESS_BYTE_COUNT	552978
+SHUFFLE	COPY_MAP_DATA	245515000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1932037
+SHUFFLE	COMPRESS_BYTE_COUNT	562961
+SHUFFLE	COPY_MAP_DATA	145374000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1500333
+SHUFFLE	COMPRESS_BYTE_COUNT	448274
+SHUFFLE	COPY_MAP_DATA	515470000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1721789
+SHUFFLE	COMPRESS_BYTE_COUNT	526181
+SHUFFLE	COPY_MAP_DATA	89763000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1708266
+SHUFFLE	COMPRESS_BYTE_COUNT	525642
+SHUFFLE	COPY_MAP_DATA	306691000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1885426
+SHUFFLE	COMPRESS_BYTE_COUNT	553730
+SHUFFLE	COPY_MAP_DATA	44241000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1748969
+SHUFFLE	COMPRESS_BYTE_COUNT	525006
+SHUFFLE	COPY_MAP_DATA	28098000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1784989
+SHUFFLE	COMPRESS_BYTE_COUNT	539955
+SHUFFLE	COPY_MAP_DATA	29549000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1870396
+SHUFFLE	COMPRESS_BYTE_COUNT	556143
+SHUFFLE	COPY_MAP_DATA	3570257000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1800711
+SHUFFLE	COMPRESS_BYTE_COUNT	541836
+SHUFFLE	COPY_MAP_DATA	54623000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1780925
+SHUFFLE	COMPRESS_BYTE_COUNT	543394
+SHUFFLE	COPY_MAP_DATA	323364000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1805122
+SHUFFLE	COMPRESS_BYTE_COUNT	545748
+SHUFFLE	COPY_MAP_DATA	27678000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1615402
+SHUFFLE	COMPRESS_BYTE_COUNT	472136
+SHUFFLE	COPY_MAP_DATA	374975000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1582555
+SHUFFLE	COMPRESS_BYTE_COUNT	480470
+SHUFFLE	COPY_MAP_DATA	25511000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1635052
+SHUFFLE	COMPRESS_BYTE_COUNT	476335
+SHUFFLE	COPY_MAP_DATA	23953000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1661383
+SHUFFLE	COMPRESS_BYTE_COUNT	522501
+SHUFFLE	COPY_MAP_DATA	25517000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1887911
+SHUFFLE	COMPRESS_BYTE_COUNT	556009
+SHUFFLE	COPY_MAP_DATA	101143000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1659450
+SHUFFLE	COMPRESS_BYTE_COUNT	417283
+SHUFFLE	COPY_MAP_DATA	46200000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1814648
+SHUFFLE	COMPRESS_BYTE_COUNT	526637
+SHUFFLE	COPY_MAP_DATA	524775000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1787224
+SHUFFLE	COMPRESS_BYTE_COUNT	522953
+SHUFFLE	COPY_MAP_DATA	32313000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1780578
+SHUFFLE	COMPRESS_BYTE_COUNT	541117
+SHUFFLE	COPY_MAP_DATA	1405580000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1679020
+SHUFFLE	COMPRESS_BYTE_COUNT	491623
+SHUFFLE	COPY_MAP_DATA	227827000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1666973
+SHUFFLE	COMPRESS_BYTE_COUNT	491081
+SHUFFLE	COPY_MAP_DATA	78845000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1702293
+SHUFFLE	COMPRESS_BYTE_COUNT	516223
+SHUFFLE	COPY_MAP_DATA	210021000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1877313
+SHUFFLE	COMPRESS_BYTE_COUNT	542027
+SHUFFLE	COPY_MAP_DATA	240842000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1844815
+SHUFFLE	COMPRESS_BYTE_COUNT	542784
+SHUFFLE	COPY_MAP_DATA	174563000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1635208
+SHUFFLE	COMPRESS_BYTE_COUNT	507149
+SHUFFLE	COPY_MAP_DATA	83746000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1591618
+SHUFFLE	COMPRESS_BYTE_COUNT	473485
+SHUFFLE	COPY_MAP_DATA	163629000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1479404
+SHUFFLE	COMPRESS_BYTE_COUNT	434705
+SHUFFLE	COPY_MAP_DATA	23523000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1583136
+SHUFFLE	COMPRESS_BYTE_COUNT	474279
+SHUFFLE	COPY_MAP_DATA	260001000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1545461
+SHUFFLE	COMPRESS_BYTE_COUNT	450123
+SHUFFLE	COPY_MAP_DATA	534264000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1643818
+SHUFFLE	COMPRESS_BYTE_COUNT	479186
+SHUFFLE	COPY_MAP_DATA	24771000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1783802
+SHUFFLE	COMPRESS_BYTE_COUNT	522670
+SHUFFLE	COPY_MAP_DATA	26294000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1599526
+SHUFFLE	COMPRESS_BYTE_COUNT	473958
+SHUFFLE	COPY_MAP_DATA	24214000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1556305
+SHUFFLE	COMPRESS_BYTE_COUNT	464572
+SHUFFLE	COPY_MAP_DATA	32826000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1679891
+SHUFFLE	COMPRESS_BYTE_COUNT	480032
+SHUFFLE	COPY_MAP_DATA	24261000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1598372
+SHUFFLE	COMPRESS_BYTE_COUNT	471230
+SHUFFLE	COPY_MAP_DATA	24282000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1611826
+SHUFFLE	COMPRESS_BYTE_COUNT	452902
+SHUFFLE	COPY_MAP_DATA	28001000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1565991
+SHUFFLE	COMPRESS_BYTE_COUNT	452267
+SHUFFLE	COPY_MAP_DATA	395200000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1450577
+SHUFFLE	COMPRESS_BYTE_COUNT	436953
+SHUFFLE	COPY_MAP_DATA	371731000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1606242
+SHUFFLE	COMPRESS_BYTE_COUNT	466952
+SHUFFLE	COPY_MAP_DATA	37257000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1883657
+SHUFFLE	COMPRESS_BYTE_COUNT	575475
+SHUFFLE	COPY_MAP_DATA	45737000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1510618
+SHUFFLE	COMPRESS_BYTE_COUNT	457714
+SHUFFLE	COPY_MAP_DATA	23151000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1605542
+SHUFFLE	COMPRESS_BYTE_COUNT	470545
+SHUFFLE	COPY_MAP_DATA	84772000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1520548
+SHUFFLE	COMPRESS_BYTE_COUNT	445798
+SHUFFLE	COPY_MAP_DATA	23534000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1634345
+SHUFFLE	COMPRESS_BYTE_COUNT	474758
+SHUFFLE	COPY_MAP_DATA	24170000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1771299
+SHUFFLE	COMPRESS_BYTE_COUNT	515778
+SHUFFLE	COPY_MAP_DATA	26817000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1537450
+SHUFFLE	COMPRESS_BYTE_COUNT	464782
+SHUFFLE	COPY_MAP_DATA	95567000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1841387
+SHUFFLE	COMPRESS_BYTE_COUNT	570663
+SHUFFLE	COPY_MAP_DATA	446062000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1591278
+SHUFFLE	COMPRESS_BYTE_COUNT	469801
+SHUFFLE	COPY_MAP_DATA	326148000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1624706
+SHUFFLE	COMPRESS_BYTE_COUNT	470381
+SHUFFLE	COPY_MAP_DATA	25973000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1701939
+SHUFFLE	COMPRESS_BYTE_COUNT	521969
+SHUFFLE	COPY_MAP_DATA	27175000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1758494
+SHUFFLE	COMPRESS_BYTE_COUNT	539252
+SHUFFLE	COPY_MAP_DATA	28408000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1570424
+SHUFFLE	COMPRESS_BYTE_COUNT	469834
+SHUFFLE	COPY_MAP_DATA	182477000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	817142
+SHUFFLE	COMPRESS_BYTE_COUNT	234278
+SHUFFLE	COPY_MAP_DATA	15234000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1430809
+SHUFFLE	COMPRESS_BYTE_COUNT	425534
+SHUFFLE	COPY_MAP_DATA	3178221000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1438159
+SHUFFLE	COMPRESS_BYTE_COUNT	427009
+SHUFFLE	COPY_MAP_DATA	163136000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1521536
+SHUFFLE	COMPRESS_BYTE_COUNT	444245
+SHUFFLE	COPY_MAP_DATA	68112000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	935801
+SHUFFLE	COMPRESS_BYTE_COUNT	256537
+SHUFFLE	COPY_MAP_DATA	1035115000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	885042
+SHUFFLE	COMPRESS_BYTE_COUNT	261688
+SHUFFLE	COPY_MAP_DATA	360524000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	815276
+SHUFFLE	COMPRESS_BYTE_COUNT	240246
+SHUFFLE	COPY_MAP_DATA	14441000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1602728
+SHUFFLE	COMPRESS_BYTE_COUNT	460224
+SHUFFLE	COPY_MAP_DATA	23778000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	830688
+SHUFFLE	COMPRESS_BYTE_COUNT	238016
+SHUFFLE	COPY_MAP_DATA	15598000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1500670
+SHUFFLE	COMPRESS_BYTE_COUNT	449486
+SHUFFLE	COPY_MAP_DATA	23920000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	770101
+SHUFFLE	COMPRESS_BYTE_COUNT	232308
+SHUFFLE	COPY_MAP_DATA	14387000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	983737
+SHUFFLE	COMPRESS_BYTE_COUNT	289898
+SHUFFLE	COPY_MAP_DATA	17215000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1465441
+SHUFFLE	COMPRESS_BYTE_COUNT	426007
+SHUFFLE	COPY_MAP_DATA	877291000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1582431
+SHUFFLE	COMPRESS_BYTE_COUNT	466198
+SHUFFLE	COPY_MAP_DATA	46533000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1643471
+SHUFFLE	COMPRESS_BYTE_COUNT	486436
+SHUFFLE	COPY_MAP_DATA	31224000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1478028
+SHUFFLE	COMPRESS_BYTE_COUNT	446264
+SHUFFLE	COPY_MAP_DATA	24148000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1461329
+SHUFFLE	COMPRESS_BYTE_COUNT	441067
+SHUFFLE	COPY_MAP_DATA	143925000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1412157
+SHUFFLE	COMPRESS_BYTE_COUNT	414907
+SHUFFLE	COPY_MAP_DATA	148246000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	988513
+SHUFFLE	COMPRESS_BYTE_COUNT	287418
+SHUFFLE	COPY_MAP_DATA	747089000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1731730
+SHUFFLE	COMPRESS_BYTE_COUNT	534751
+SHUFFLE	COPY_MAP_DATA	110572000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	928238
+SHUFFLE	COMPRESS_BYTE_COUNT	280083
+SHUFFLE	COPY_MAP_DATA	18394000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1470899
+SHUFFLE	COMPRESS_BYTE_COUNT	432530
+SHUFFLE	COPY_MAP_DATA	22910000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1760936
+SHUFFLE	COMPRESS_BYTE_COUNT	506458
+SHUFFLE	COPY_MAP_DATA	35786000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1049376
+SHUFFLE	COMPRESS_BYTE_COUNT	289558
+SHUFFLE	COPY_MAP_DATA	160468000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	924343
+SHUFFLE	COMPRESS_BYTE_COUNT	272581
+SHUFFLE	COPY_MAP_DATA	16006000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1432398
+SHUFFLE	COMPRESS_BYTE_COUNT	315608
+SHUFFLE	COPY_MAP_DATA	32300000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1584688
+SHUFFLE	COMPRESS_BYTE_COUNT	464285
+SHUFFLE	COPY_MAP_DATA	32874000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1580032
+SHUFFLE	COMPRESS_BYTE_COUNT	489502
+SHUFFLE	COPY_MAP_DATA	221071000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	934359
+SHUFFLE	COMPRESS_BYTE_COUNT	279654
+SHUFFLE	COPY_MAP_DATA	214519000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1570096
+SHUFFLE	COMPRESS_BYTE_COUNT	464203
+SHUFFLE	COPY_MAP_DATA	92465000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1722643
+SHUFFLE	COMPRESS_BYTE_COUNT	516857
+SHUFFLE	COPY_MAP_DATA	115444000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	975403
+SHUFFLE	COMPRESS_BYTE_COUNT	289848
+SHUFFLE	COPY_MAP_DATA	16700000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1496366
+SHUFFLE	COMPRESS_BYTE_COUNT	449162
+SHUFFLE	COPY_MAP_DATA	23613000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	927992
+SHUFFLE	COMPRESS_BYTE_COUNT	278450
+SHUFFLE	COPY_MAP_DATA	202149000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1615456
+SHUFFLE	COMPRESS_BYTE_COUNT	474995
+SHUFFLE	COPY_MAP_DATA	33644000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	997503
+SHUFFLE	COMPRESS_BYTE_COUNT	294803
+SHUFFLE	COPY_MAP_DATA	18020000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	886756
+SHUFFLE	COMPRESS_BYTE_COUNT	280666
+SHUFFLE	COPY_MAP_DATA	2916637000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	948829
+SHUFFLE	COMPRESS_BYTE_COUNT	284127
+SHUFFLE	COPY_MAP_DATA	215843000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	934639
+SHUFFLE	COMPRESS_BYTE_COUNT	284491
+SHUFFLE	COPY_MAP_DATA	634517000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	905532
+SHUFFLE	COMPRESS_BYTE_COUNT	261609
+SHUFFLE	COPY_MAP_DATA	302042000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	994108
+SHUFFLE	COMPRESS_BYTE_COUNT	297452
+SHUFFLE	COPY_MAP_DATA	27376000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	971529
+SHUFFLE	COMPRESS_BYTE_COUNT	289841
+SHUFFLE	COPY_MAP_DATA	146206000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	973023
+SHUFFLE	COMPRESS_BYTE_COUNT	287792
+SHUFFLE	COPY_MAP_DATA	134285000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	965495
+SHUFFLE	COMPRESS_BYTE_COUNT	292138
+SHUFFLE	COPY_MAP_DATA	17462000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	953288
+SHUFFLE	COMPRESS_BYTE_COUNT	291117
+SHUFFLE	COPY_MAP_DATA	17173000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	969113
+SHUFFLE	COMPRESS_BYTE_COUNT	295067
+SHUFFLE	COPY_MAP_DATA	17506000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	956629
+SHUFFLE	COMPRESS_BYTE_COUNT	287794
+SHUFFLE	COPY_MAP_DATA	16697000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	959513
+SHUFFLE	COMPRESS_BYTE_COUNT	288971
+SHUFFLE	COPY_MAP_DATA	124961000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	947344
+SHUFFLE	COMPRESS_BYTE_COUNT	288617
+SHUFFLE	COPY_MAP_DATA	16951000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1064512
+SHUFFLE	COMPRESS_BYTE_COUNT	293439
+SHUFFLE	COPY_MAP_DATA	3641061000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	949198
+SHUFFLE	COMPRESS_BYTE_COUNT	287269
+SHUFFLE	COPY_MAP_DATA	1016438000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1008657
+SHUFFLE	COMPRESS_BYTE_COUNT	305445
+SHUFFLE	COPY_MAP_DATA	222236000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	934641
+SHUFFLE	COMPRESS_BYTE_COUNT	279813
+SHUFFLE	COPY_MAP_DATA	16302000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	973399
+SHUFFLE	COMPRESS_BYTE_COUNT	293718
+SHUFFLE	COPY_MAP_DATA	23501000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1060209
+SHUFFLE	COMPRESS_BYTE_COUNT	300906
+SHUFFLE	COPY_MAP_DATA	238321000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	977286
+SHUFFLE	COMPRESS_BYTE_COUNT	294722
+SHUFFLE	COPY_MAP_DATA	235707000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	919011
+SHUFFLE	COMPRESS_BYTE_COUNT	285398
+SHUFFLE	COPY_MAP_DATA	228439000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	947271
+SHUFFLE	COMPRESS_BYTE_COUNT	291324
+SHUFFLE	COPY_MAP_DATA	58807000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	972940
+SHUFFLE	COMPRESS_BYTE_COUNT	295910
+SHUFFLE	COPY_MAP_DATA	15839000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	936578
+SHUFFLE	COMPRESS_BYTE_COUNT	290114
+SHUFFLE	COPY_MAP_DATA	42236000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	955845
+SHUFFLE	COMPRESS_BYTE_COUNT	289659
+SHUFFLE	COPY_MAP_DATA	494518000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	912206
+SHUFFLE	COMPRESS_BYTE_COUNT	275701
+SHUFFLE	COPY_MAP_DATA	79357000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	959954
+SHUFFLE	COMPRESS_BYTE_COUNT	294589
+SHUFFLE	COPY_MAP_DATA	51654000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	942590
+SHUFFLE	COMPRESS_BYTE_COUNT	293059
+SHUFFLE	COPY_MAP_DATA	182478000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	934914
+SHUFFLE	COMPRESS_BYTE_COUNT	283623
+SHUFFLE	COPY_MAP_DATA	34346000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	950623
+SHUFFLE	COMPRESS_BYTE_COUNT	296845
+SHUFFLE	COPY_MAP_DATA	16357000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	956425
+SHUFFLE	COMPRESS_BYTE_COUNT	285982
+SHUFFLE	COPY_MAP_DATA	125523000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	936130
+SHUFFLE	COMPRESS_BYTE_COUNT	292417
+SHUFFLE	COPY_MAP_DATA	16371000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	936811
+SHUFFLE	COMPRESS_BYTE_COUNT	290208
+SHUFFLE	COPY_MAP_DATA	16740000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	964517
+SHUFFLE	COMPRESS_BYTE_COUNT	276560
+SHUFFLE	COPY_MAP_DATA	16475000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	943418
+SHUFFLE	COMPRESS_BYTE_COUNT	296362
+SHUFFLE	COPY_MAP_DATA	579009000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	912982
+SHUFFLE	COMPRESS_BYTE_COUNT	287644
+SHUFFLE	COPY_MAP_DATA	2322691000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	941596
+SHUFFLE	COMPRESS_BYTE_COUNT	289786
+SHUFFLE	COPY_MAP_DATA	528610000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	892473
+SHUFFLE	COMPRESS_BYTE_COUNT	284019
+SHUFFLE	COPY_MAP_DATA	421654000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	922501
+SHUFFLE	COMPRESS_BYTE_COUNT	257812
+SHUFFLE	COPY_MAP_DATA	16297000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	979192
+SHUFFLE	COMPRESS_BYTE_COUNT	286588
+SHUFFLE	COPY_MAP_DATA	96790000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	880577
+SHUFFLE	COMPRESS_BYTE_COUNT	276182
+SHUFFLE	COPY_MAP_DATA	630217000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	930164
+SHUFFLE	COMPRESS_BYTE_COUNT	289718
+SHUFFLE	COPY_MAP_DATA	1685161000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	949999
+SHUFFLE	COMPRESS_BYTE_COUNT	294643
+SHUFFLE	COPY_MAP_DATA	1232904000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	978751
+SHUFFLE	COMPRESS_BYTE_COUNT	297374
+SHUFFLE	COPY_MAP_DATA	1873859000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	913589
+SHUFFLE	COMPRESS_BYTE_COUNT	281811
+SHUFFLE	COPY_MAP_DATA	310478000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	947872
+SHUFFLE	COMPRESS_BYTE_COUNT	289423
+SHUFFLE	COPY_MAP_DATA	417367000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	941578
+SHUFFLE	COMPRESS_BYTE_COUNT	287722
+SHUFFLE	COPY_MAP_DATA	211089000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	918461
+SHUFFLE	COMPRESS_BYTE_COUNT	284069
+SHUFFLE	COPY_MAP_DATA	158574000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	904154
+SHUFFLE	COMPRESS_BYTE_COUNT	288622
+SHUFFLE	COPY_MAP_DATA	27513000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	937172
+SHUFFLE	COMPRESS_BYTE_COUNT	287631
+SHUFFLE	COPY_MAP_DATA	56251000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	882050
+SHUFFLE	COMPRESS_BYTE_COUNT	276662
+SHUFFLE	COPY_MAP_DATA	258378000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	969476
+SHUFFLE	COMPRESS_BYTE_COUNT	296348
+SHUFFLE	COPY_MAP_DATA	477575000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	929583
+SHUFFLE	COMPRESS_BYTE_COUNT	286257
+SHUFFLE	COPY_MAP_DATA	108317000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	940234
+SHUFFLE	COMPRESS_BYTE_COUNT	290585
+SHUFFLE	COPY_MAP_DATA	390858000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	897215
+SHUFFLE	COMPRESS_BYTE_COUNT	280558
+SHUFFLE	COPY_MAP_DATA	1745197000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	998622
+SHUFFLE	COMPRESS_BYTE_COUNT	296343
+SHUFFLE	COPY_MAP_DATA	54204000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	911154
+SHUFFLE	COMPRESS_BYTE_COUNT	281610
+SHUFFLE	COPY_MAP_DATA	16481000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	932611
+SHUFFLE	COMPRESS_BYTE_COUNT	295084
+SHUFFLE	COPY_MAP_DATA	20039000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	850818
+SHUFFLE	COMPRESS_BYTE_COUNT	270766
+SHUFFLE	COPY_MAP_DATA	302959000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	888616
+SHUFFLE	COMPRESS_BYTE_COUNT	283928
+SHUFFLE	COPY_MAP_DATA	26090000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	859476
+SHUFFLE	COMPRESS_BYTE_COUNT	273230
+SHUFFLE	COPY_MAP_DATA	204297000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	886041
+SHUFFLE	COMPRESS_BYTE_COUNT	277491
+SHUFFLE	COPY_MAP_DATA	135817000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	867945
+SHUFFLE	COMPRESS_BYTE_COUNT	276238
+SHUFFLE	COPY_MAP_DATA	109843000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	946317
+SHUFFLE	COMPRESS_BYTE_COUNT	289363
+SHUFFLE	COPY_MAP_DATA	67009000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	833175
+SHUFFLE	COMPRESS_BYTE_COUNT	264449
+SHUFFLE	COPY_MAP_DATA	15067000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	826178
+SHUFFLE	COMPRESS_BYTE_COUNT	264826
+SHUFFLE	COPY_MAP_DATA	14893000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	882978
+SHUFFLE	COMPRESS_BYTE_COUNT	279301
+SHUFFLE	COPY_MAP_DATA	16266000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	859663
+SHUFFLE	COMPRESS_BYTE_COUNT	271941
+SHUFFLE	COPY_MAP_DATA	148196000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	919083
+SHUFFLE	COMPRESS_BYTE_COUNT	289384
+SHUFFLE	COPY_MAP_DATA	16389000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	880709
+SHUFFLE	COMPRESS_BYTE_COUNT	285938
+SHUFFLE	COPY_MAP_DATA	307514000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	935813
+SHUFFLE	COMPRESS_BYTE_COUNT	291185
+SHUFFLE	COPY_MAP_DATA	25873000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	912642
+SHUFFLE	COMPRESS_BYTE_COUNT	288701
+SHUFFLE	COPY_MAP_DATA	406686000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	908084
+SHUFFLE	COMPRESS_BYTE_COUNT	286065
+SHUFFLE	COPY_MAP_DATA	58390000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	920004
+SHUFFLE	COMPRESS_BYTE_COUNT	279147
+SHUFFLE	COPY_MAP_DATA	257136000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	856222
+SHUFFLE	COMPRESS_BYTE_COUNT	277705
+SHUFFLE	COPY_MAP_DATA	473507000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	815515
+SHUFFLE	COMPRESS_BYTE_COUNT	261973
+SHUFFLE	COPY_MAP_DATA	354079000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	888625
+SHUFFLE	COMPRESS_BYTE_COUNT	267432
+SHUFFLE	COPY_MAP_DATA	165318000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	879975
+SHUFFLE	COMPRESS_BYTE_COUNT	278125
+SHUFFLE	COPY_MAP_DATA	213168000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	826439
+SHUFFLE	COMPRESS_BYTE_COUNT	251585
+SHUFFLE	COPY_MAP_DATA	2786571000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	842632
+SHUFFLE	COMPRESS_BYTE_COUNT	265301
+SHUFFLE	COPY_MAP_DATA	13914000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	848278
+SHUFFLE	COMPRESS_BYTE_COUNT	272773
+SHUFFLE	COPY_MAP_DATA	146733000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	931202
+SHUFFLE	COMPRESS_BYTE_COUNT	286976
+SHUFFLE	COPY_MAP_DATA	15572000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	833281
+SHUFFLE	COMPRESS_BYTE_COUNT	253684
+SHUFFLE	COPY_MAP_DATA	13401000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	914757
+SHUFFLE	COMPRESS_BYTE_COUNT	285913
+SHUFFLE	COPY_MAP_DATA	2991014000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	852046
+SHUFFLE	COMPRESS_BYTE_COUNT	269022
+SHUFFLE	COPY_MAP_DATA	16624000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	868996
+SHUFFLE	COMPRESS_BYTE_COUNT	267096
+SHUFFLE	COPY_MAP_DATA	37307000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	827674
+SHUFFLE	COMPRESS_BYTE_COUNT	261670
+SHUFFLE	COPY_MAP_DATA	16327000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	819857
+SHUFFLE	COMPRESS_BYTE_COUNT	251961
+SHUFFLE	COPY_MAP_DATA	18937000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	872496
+SHUFFLE	COMPRESS_BYTE_COUNT	275464
+SHUFFLE	COPY_MAP_DATA	16020000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	883448
+SHUFFLE	COMPRESS_BYTE_COUNT	260844
+SHUFFLE	COPY_MAP_DATA	14836000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	924606
+SHUFFLE	COMPRESS_BYTE_COUNT	285995
+SHUFFLE	COPY_MAP_DATA	15330000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	784392
+SHUFFLE	COMPRESS_BYTE_COUNT	256211
+SHUFFLE	COPY_MAP_DATA	2978179000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	789596
+SHUFFLE	COMPRESS_BYTE_COUNT	243160
+SHUFFLE	COPY_MAP_DATA	14406000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	952709
+SHUFFLE	COMPRESS_BYTE_COUNT	277012
+SHUFFLE	COPY_MAP_DATA	16305000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	774663
+SHUFFLE	COMPRESS_BYTE_COUNT	237727
+SHUFFLE	COPY_MAP_DATA	13732000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	854224
+SHUFFLE	COMPRESS_BYTE_COUNT	253211
+SHUFFLE	COPY_MAP_DATA	158323000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	813107
+SHUFFLE	COMPRESS_BYTE_COUNT	262922
+SHUFFLE	COPY_MAP_DATA	15308000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	816542
+SHUFFLE	COMPRESS_BYTE_COUNT	249634
+SHUFFLE	COPY_MAP_DATA	14196000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	827592
+SHUFFLE	COMPRESS_BYTE_COUNT	258382
+SHUFFLE	COPY_MAP_DATA	367126000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	802170
+SHUFFLE	COMPRESS_BYTE_COUNT	247272
+SHUFFLE	COPY_MAP_DATA	70129000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	976301
+SHUFFLE	COMPRESS_BYTE_COUNT	290077
+SHUFFLE	COPY_MAP_DATA	237810000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	816245
+SHUFFLE	COMPRESS_BYTE_COUNT	258155
+SHUFFLE	COPY_MAP_DATA	14216000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	810925
+SHUFFLE	COMPRESS_BYTE_COUNT	252375
+SHUFFLE	COPY_MAP_DATA	868448000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	852135
+SHUFFLE	COMPRESS_BYTE_COUNT	244212
+SHUFFLE	COPY_MAP_DATA	14190000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	777843
+SHUFFLE	COMPRESS_BYTE_COUNT	240678
+SHUFFLE	COPY_MAP_DATA	14557000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	859000
+SHUFFLE	COMPRESS_BYTE_COUNT	256579
+SHUFFLE	COPY_MAP_DATA	14044000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	738710
+SHUFFLE	COMPRESS_BYTE_COUNT	228889
+SHUFFLE	COPY_MAP_DATA	13920000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	799719
+SHUFFLE	COMPRESS_BYTE_COUNT	204439
+SHUFFLE	COPY_MAP_DATA	24142000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	852583
+SHUFFLE	COMPRESS_BYTE_COUNT	259223
+SHUFFLE	COPY_MAP_DATA	33934000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	781938
+SHUFFLE	COMPRESS_BYTE_COUNT	244641
+SHUFFLE	COPY_MAP_DATA	63964000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	895179
+SHUFFLE	COMPRESS_BYTE_COUNT	274653
+SHUFFLE	COPY_MAP_DATA	14768000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	755734
+SHUFFLE	COMPRESS_BYTE_COUNT	232136
+SHUFFLE	COPY_MAP_DATA	15041000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	809127
+SHUFFLE	COMPRESS_BYTE_COUNT	243689
+SHUFFLE	COPY_MAP_DATA	27000000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	728071
+SHUFFLE	COMPRESS_BYTE_COUNT	229339
+SHUFFLE	COPY_MAP_DATA	14253000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	827758
+SHUFFLE	COMPRESS_BYTE_COUNT	252032
+SHUFFLE	COPY_MAP_DATA	1806640000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	828301
+SHUFFLE	COMPRESS_BYTE_COUNT	253964
+SHUFFLE	COPY_MAP_DATA	152413000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	751587
+SHUFFLE	COMPRESS_BYTE_COUNT	230955
+SHUFFLE	COPY_MAP_DATA	14699000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	810348
+SHUFFLE	COMPRESS_BYTE_COUNT	246482
+SHUFFLE	COPY_MAP_DATA	14573000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	799630
+SHUFFLE	COMPRESS_BYTE_COUNT	249174
+SHUFFLE	COPY_MAP_DATA	24949000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	756256
+SHUFFLE	COMPRESS_BYTE_COUNT	233798
+SHUFFLE	COPY_MAP_DATA	124041000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	754965
+SHUFFLE	COMPRESS_BYTE_COUNT	236494
+SHUFFLE	COPY_MAP_DATA	89486000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	815197
+SHUFFLE	COMPRESS_BYTE_COUNT	241269
+SHUFFLE	COPY_MAP_DATA	12330000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	764822
+SHUFFLE	COMPRESS_BYTE_COUNT	230254
+SHUFFLE	COPY_MAP_DATA	14174000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	951426
+SHUFFLE	COMPRESS_BYTE_COUNT	276026
+SHUFFLE	COPY_MAP_DATA	333145000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	822337
+SHUFFLE	COMPRESS_BYTE_COUNT	256375
+SHUFFLE	COPY_MAP_DATA	14034000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	769598
+SHUFFLE	COMPRESS_BYTE_COUNT	241433
+SHUFFLE	COPY_MAP_DATA	234262000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	781213
+SHUFFLE	COMPRESS_BYTE_COUNT	236084
+SHUFFLE	COPY_MAP_DATA	321439000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	819875
+SHUFFLE	COMPRESS_BYTE_COUNT	257083
+SHUFFLE	COPY_MAP_DATA	14426000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	837165
+SHUFFLE	COMPRESS_BYTE_COUNT	229229
+SHUFFLE	COPY_MAP_DATA	4672972000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1155588
+SHUFFLE	COMPRESS_BYTE_COUNT	362763
+SHUFFLE	COPY_MAP_DATA	531680000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	817099
+SHUFFLE	COMPRESS_BYTE_COUNT	247060
+SHUFFLE	COPY_MAP_DATA	491449000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	810259
+SHUFFLE	COMPRESS_BYTE_COUNT	236018
+SHUFFLE	COPY_MAP_DATA	183060000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	756404
+SHUFFLE	COMPRESS_BYTE_COUNT	232001
+SHUFFLE	COPY_MAP_DATA	744595000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	782986
+SHUFFLE	COMPRESS_BYTE_COUNT	239675
+SHUFFLE	COPY_MAP_DATA	40035000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	741022
+SHUFFLE	COMPRESS_BYTE_COUNT	233286
+SHUFFLE	COPY_MAP_DATA	14318000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	840539
+SHUFFLE	COMPRESS_BYTE_COUNT	254767
+SHUFFLE	COPY_MAP_DATA	35610000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	849903
+SHUFFLE	COMPRESS_BYTE_COUNT	265688
+SHUFFLE	COPY_MAP_DATA	15608000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	707196
+SHUFFLE	COMPRESS_BYTE_COUNT	219161
+SHUFFLE	COPY_MAP_DATA	12789000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	846290
+SHUFFLE	COMPRESS_BYTE_COUNT	256417
+SHUFFLE	COPY_MAP_DATA	916948000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	751318
+SHUFFLE	COMPRESS_BYTE_COUNT	231100
+SHUFFLE	COPY_MAP_DATA	14069000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	764250
+SHUFFLE	COMPRESS_BYTE_COUNT	230402
+SHUFFLE	COPY_MAP_DATA	120158000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	720267
+SHUFFLE	COMPRESS_BYTE_COUNT	218503
+SHUFFLE	COPY_MAP_DATA	66799000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	760801
+SHUFFLE	COMPRESS_BYTE_COUNT	234382
+SHUFFLE	COPY_MAP_DATA	16330000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	968253
+SHUFFLE	COMPRESS_BYTE_COUNT	278753
+SHUFFLE	COPY_MAP_DATA	5098166000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	817248
+SHUFFLE	COMPRESS_BYTE_COUNT	243905
+SHUFFLE	COPY_MAP_DATA	179427000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	756677
+SHUFFLE	COMPRESS_BYTE_COUNT	230103
+SHUFFLE	COPY_MAP_DATA	13668000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	760078
+SHUFFLE	COMPRESS_BYTE_COUNT	237823
+SHUFFLE	COPY_MAP_DATA	534188000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	760944
+SHUFFLE	COMPRESS_BYTE_COUNT	234840
+SHUFFLE	COPY_MAP_DATA	495806000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	748748
+SHUFFLE	COMPRESS_BYTE_COUNT	233463
+SHUFFLE	COPY_MAP_DATA	314706000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	757835
+SHUFFLE	COMPRESS_BYTE_COUNT	232456
+SHUFFLE	COPY_MAP_DATA	19582000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	754450
+SHUFFLE	COMPRESS_BYTE_COUNT	229520
+SHUFFLE	COPY_MAP_DATA	368416000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	694323
+SHUFFLE	COMPRESS_BYTE_COUNT	217921
+SHUFFLE	COPY_MAP_DATA	16330000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	833593
+SHUFFLE	COMPRESS_BYTE_COUNT	246864
+SHUFFLE	COPY_MAP_DATA	38423000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	723615
+SHUFFLE	COMPRESS_BYTE_COUNT	220612
+SHUFFLE	COPY_MAP_DATA	80720000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	724037
+SHUFFLE	COMPRESS_BYTE_COUNT	225063
+SHUFFLE	COPY_MAP_DATA	178975000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	759606
+SHUFFLE	COMPRESS_BYTE_COUNT	226915
+SHUFFLE	COPY_MAP_DATA	14557000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	714584
+SHUFFLE	COMPRESS_BYTE_COUNT	218879
+SHUFFLE	COPY_MAP_DATA	398593000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1059451
+SHUFFLE	COMPRESS_BYTE_COUNT	340847
+SHUFFLE	COPY_MAP_DATA	18963000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	816022
+SHUFFLE	COMPRESS_BYTE_COUNT	254084
+SHUFFLE	COPY_MAP_DATA	42394000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	820685
+SHUFFLE	COMPRESS_BYTE_COUNT	251767
+SHUFFLE	COPY_MAP_DATA	35101000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	721430
+SHUFFLE	COMPRESS_BYTE_COUNT	224055
+SHUFFLE	COPY_MAP_DATA	13363000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	746189
+SHUFFLE	COMPRESS_BYTE_COUNT	232493
+SHUFFLE	COPY_MAP_DATA	191125000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	734787
+SHUFFLE	COMPRESS_BYTE_COUNT	225285
+SHUFFLE	COPY_MAP_DATA	3091584000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	791115
+SHUFFLE	COMPRESS_BYTE_COUNT	240328
+SHUFFLE	COPY_MAP_DATA	79575000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	836830
+SHUFFLE	COMPRESS_BYTE_COUNT	255641
+SHUFFLE	COPY_MAP_DATA	97652000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	797089
+SHUFFLE	COMPRESS_BYTE_COUNT	248233
+SHUFFLE	COPY_MAP_DATA	133674000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	854926
+SHUFFLE	COMPRESS_BYTE_COUNT	252333
+SHUFFLE	COPY_MAP_DATA	230003000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	729455
+SHUFFLE	COMPRESS_BYTE_COUNT	226862
+SHUFFLE	COPY_MAP_DATA	735675000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	815172
+SHUFFLE	COMPRESS_BYTE_COUNT	249944
+SHUFFLE	COPY_MAP_DATA	168674000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	748575
+SHUFFLE	COMPRESS_BYTE_COUNT	236106
+SHUFFLE	COPY_MAP_DATA	431577000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	750874
+SHUFFLE	COMPRESS_BYTE_COUNT	226804
+SHUFFLE	COPY_MAP_DATA	132564000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	757066
+SHUFFLE	COMPRESS_BYTE_COUNT	236387
+SHUFFLE	COPY_MAP_DATA	14131000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	891018
+SHUFFLE	COMPRESS_BYTE_COUNT	264403
+SHUFFLE	COPY_MAP_DATA	426039000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	841349
+SHUFFLE	COMPRESS_BYTE_COUNT	248256
+SHUFFLE	COPY_MAP_DATA	644640000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	740495
+SHUFFLE	COMPRESS_BYTE_COUNT	228298
+SHUFFLE	COPY_MAP_DATA	13475000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	788066
+SHUFFLE	COMPRESS_BYTE_COUNT	230863
+SHUFFLE	COPY_MAP_DATA	23038000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	803374
+SHUFFLE	COMPRESS_BYTE_COUNT	237807
+SHUFFLE	COPY_MAP_DATA	6183031000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	792685
+SHUFFLE	COMPRESS_BYTE_COUNT	243331
+SHUFFLE	COPY_MAP_DATA	35189000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	821233
+SHUFFLE	COMPRESS_BYTE_COUNT	236635
+SHUFFLE	COPY_MAP_DATA	57040000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	977904
+SHUFFLE	COMPRESS_BYTE_COUNT	310936
+SHUFFLE	COPY_MAP_DATA	30335000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	699451
+SHUFFLE	COMPRESS_BYTE_COUNT	212871
+SHUFFLE	COPY_MAP_DATA	676248000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	794367
+SHUFFLE	COMPRESS_BYTE_COUNT	250472
+SHUFFLE	COPY_MAP_DATA	506177000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	754483
+SHUFFLE	COMPRESS_BYTE_COUNT	231749
+SHUFFLE	COPY_MAP_DATA	46784000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	677372
+SHUFFLE	COMPRESS_BYTE_COUNT	203328
+SHUFFLE	COPY_MAP_DATA	12406000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	728307
+SHUFFLE	COMPRESS_BYTE_COUNT	220183
+SHUFFLE	COPY_MAP_DATA	446652000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	736951
+SHUFFLE	COMPRESS_BYTE_COUNT	168724
+SHUFFLE	COPY_MAP_DATA	2300381000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	750874
+SHUFFLE	COMPRESS_BYTE_COUNT	226804
+SHUFFLE	COPY_MAP_DATA	13128000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	758339
+SHUFFLE	COMPRESS_BYTE_COUNT	236475
+SHUFFLE	COPY_MAP_DATA	2091265000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	813032
+SHUFFLE	COMPRESS_BYTE_COUNT	242172
+SHUFFLE	COPY_MAP_DATA	33501000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	720836
+SHUFFLE	COMPRESS_BYTE_COUNT	226366
+SHUFFLE	COPY_MAP_DATA	38683000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	856383
+SHUFFLE	COMPRESS_BYTE_COUNT	257163
+SHUFFLE	COPY_MAP_DATA	14450000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	712411
+SHUFFLE	COMPRESS_BYTE_COUNT	215185
+SHUFFLE	COPY_MAP_DATA	14974000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	632681
+SHUFFLE	COMPRESS_BYTE_COUNT	121667
+SHUFFLE	COPY_MAP_DATA	116192000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	925556
+SHUFFLE	COMPRESS_BYTE_COUNT	283509
+SHUFFLE	COPY_MAP_DATA	3124851000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	724440
+SHUFFLE	COMPRESS_BYTE_COUNT	226556
+SHUFFLE	COPY_MAP_DATA	11985000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	644210
+SHUFFLE	COMPRESS_BYTE_COUNT	202645
+SHUFFLE	COPY_MAP_DATA	11857000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	704386
+SHUFFLE	COMPRESS_BYTE_COUNT	216650
+SHUFFLE	COPY_MAP_DATA	11324000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	761381
+SHUFFLE	COMPRESS_BYTE_COUNT	229372
+SHUFFLE	COPY_MAP_DATA	11957000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	791982
+SHUFFLE	COMPRESS_BYTE_COUNT	245522
+SHUFFLE	COPY_MAP_DATA	13812000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	750634
+SHUFFLE	COMPRESS_BYTE_COUNT	228129
+SHUFFLE	COPY_MAP_DATA	38884000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	881829
+SHUFFLE	COMPRESS_BYTE_COUNT	285649
+SHUFFLE	COPY_MAP_DATA	25063000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	980653
+SHUFFLE	COMPRESS_BYTE_COUNT	314703
+SHUFFLE	COPY_MAP_DATA	16614000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	763789
+SHUFFLE	COMPRESS_BYTE_COUNT	243093
+SHUFFLE	COPY_MAP_DATA	14020000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	238530868000
+MERGE	READ_WRITE	237846248000
+MERGE	READ_WRITE_COUNT	2
+MERGE	COMBINE	0
+MERGE	WRITE	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	31668880000
+SORT	READ_WRITE	31522091000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	137076288
+REDUCE	SETUP	338000
+REDUCE	SETUP_MEM	137076288
+REDUCE	CLEANUP	29000
+REDUCE	CLEANUP_MEM	105899864
+REDUCE	TOTAL_RUN	119172420000
+REDUCE	READ	8347754000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	104394051000
+REDUCE	WRITE	52716588000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	68196250
+REDUCE	VALUE_BYTE_COUNT	62202134
+REDUCE	REDUCE_MEM	105901912
+REDUCE	WRITE	10562000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	773185035000
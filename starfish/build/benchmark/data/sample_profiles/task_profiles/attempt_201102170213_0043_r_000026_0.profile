@@ -0,0 +1,1333 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1988077
+SHUFFLE	COMPRESS_BYTE_COUNT	569174
+SHUFFLE	COPY_MAP_DATA	58354000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2338740
+SHUFFLE	COMPRESS_BYTE_COUNT	590363
+SHUFFLE	COPY_MAP_DATA	77864000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2111361
+SHUFFLE	COMPRESS_BYTE_COUNT	593080
+SHUFFLE	COPY_MAP_DATA	62809000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2159452
+SHUFFLE	COMPRESS_BYTE_COUNT	582157
+SHUFFLE	COPY_MAP_DATA	36846000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1789549
+SHUFFLE	COMPRESS_BYTE_COUNT	481311
+SHUFFLE	COPY_MAP_DATA	71738000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2220570
+SHUFFLE	COMPRESS_BYTE_COUNT	603027
+SHUFFLE	COPY_MAP_DATA	36648000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2083193
+SHUFFLE	COMPRESS_BYTE_COUNT	576343
+SHUFFLE	COPY_MAP_DATA	71259000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2192624
+SHUFFLE	COMPRESS_BYTE_COUNT	546882
+SHUFFLE	COPY_MAP_DATA	71782000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2071628
+SHUFFLE	COMPRESS_BYTE_COUNT	575131
+SHUFFLE	COPY_MAP_DATA	34621000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1975605
+SHUFFLE	COMPRESS_BYTE_COUNT	486061
+SHUFFLE	COPY_MAP_DATA	134368000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2047806
+SHUFFLE	COMPRESS_BYTE_COUNT	578987
+SHUFFLE	COPY_MAP_DATA	49001000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2200594
+SHUFFLE	COMPRESS_BYTE_COUNT	583688
+SHUFFLE	COPY_MAP_DATA	49885000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2174253
+SHUFFLE	COMPRESS_BYTE_COUNT	593328
+SHUFFLE	COPY_MAP_DATA	94787000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2138798
+SHUFFLE	COMPRESS_BYTE_COUNT	595101
+SHUFFLE	COPY_MAP_DATA	34547000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2173758
+SHUFFLE	COMPRESS_BYTE_COUNT	584732
+SHUFFLE	COPY_MAP_DATA	79750000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2476732
+SHUFFLE	COMPRESS_BYTE_COUNT	576254
+SHUFFLE	COPY_MAP_DATA	115829000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2148694
+SHUFFLE	COMPRESS_BYTE_COUNT	572418
+SHUFFLE	COPY_MAP_DATA	33067000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2146194
+SHUFFLE	COMPRESS_BYTE_COUNT	595859
+SHUFFLE	COPY_MAP_DATA	172823000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2132766
+SHUFFLE	COMPRESS_BYTE_COUNT	560100
+SHUFFLE	COPY_MAP_DATA	173224000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1900275
+SHUFFLE	COMPRESS_BYTE_COUNT	499822
+SHUFFLE	COPY_MAP_DATA	124809000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2221320
+SHUFFLE	COMPRESS_BYTE_COUNT	590548
+SHUFFLE	COPY_MAP_DATA	93339000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2073149
+SHUFFLE	COMPRESS_BYTE_COUNT	581108
+SHUFFLE	COPY_MAP_DATA	67159000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2150595
+SHUFFLE	COMPRESS_BYTE_COUNT	588674
+SHUFFLE	COPY_MAP_DATA	34280000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2108628
+SHUFFLE	COMPRESS_BYTE_COUNT	589027
+SHUFFLE	COPY_MAP_DATA	108474000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2216802
+SHUFFLE	COMPRESS_BYTE_COUNT	577246
+SHUFFLE	COPY_MAP_DATA	44485000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2303861
+SHUFFLE	COMPRESS_BYTE_COUNT	584328
+SHUFFLE	COPY_MAP_DATA	319066000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2167040
+SHUFFLE	COMPRESS_BYTE_COUNT	558305
+SHUFFLE	COPY_MAP_DATA	63147000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2081485
+SHUFFLE	COMPRESS_BYTE_COUNT	580978
+SHUFFLE	COPY_MAP_DATA	35107000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2044697
+SHUFFLE	COMPRESS_BYTE_COUNT	575879
+SHUFFLE	COPY_MAP_DATA	34211000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2329110
+SHUFFLE	COMPRESS_BYTE_COUNT	605125
+SHUFFLE	COPY_MAP_DATA	159444000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1986067
+SHUFFLE	COMPRESS_BYTE_COUNT	558941
+SHUFFLE	COPY_MAP_DATA	127223000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2002019
+SHUFFLE	COMPRESS_BYTE_COUNT	573979
+SHUFFLE	COPY_MAP_DATA	34341000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2011882
+SHUFFLE	COMPRESS_BYTE_COUNT	574560
+SHUFFLE	COPY_MAP_DATA	30661000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1889924
+SHUFFLE	COMPRESS_BYTE_COUNT	545023
+SHUFFLE	COPY_MAP_DATA	28541000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1896595
+SHUFFLE	COMPRESS_BYTE_COUNT	555104
+SHUFFLE	COPY_MAP_DATA	30563000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1683854
+SHUFFLE	COMPRESS_BYTE_COUNT	474216
+SHUFFLE	COPY_MAP_DATA	44430000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2116568
+SHUFFLE	COMPRESS_BYTE_COUNT	582316
+SHUFFLE	COPY_MAP_DATA	34458000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2135381
+SHUFFLE	COMPRESS_BYTE_COUNT	587300
+SHUFFLE	COPY_MAP_DATA	35607000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2043838
+SHUFFLE	COMPRESS_BYTE_COUNT	578116
+SHUFFLE	COPY_MAP_DATA	33070000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2162613
+SHUFFLE	COMPRESS_BYTE_COUNT	596078
+SHUFFLE	COPY_MAP_DATA	177712000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1997066
+SHUFFLE	COMPRESS_BYTE_COUNT	563040
+SHUFFLE	COPY_MAP_DATA	31534000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1998862
+SHUFFLE	COMPRESS_BYTE_COUNT	560115
+SHUFFLE	COPY_MAP_DATA	31337000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2691430
+SHUFFLE	COMPRESS_BYTE_COUNT	510774
+SHUFFLE	COPY_MAP_DATA	106752000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2079153
+SHUFFLE	COMPRESS_BYTE_COUNT	583855
+SHUFFLE	COPY_MAP_DATA	75505000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2016115
+SHUFFLE	COMPRESS_BYTE_COUNT	574916
+SHUFFLE	COPY_MAP_DATA	31584000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1979466
+SHUFFLE	COMPRESS_BYTE_COUNT	563865
+SHUFFLE	COPY_MAP_DATA	31462000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2006466
+SHUFFLE	COMPRESS_BYTE_COUNT	574734
+SHUFFLE	COPY_MAP_DATA	31129000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1922591
+SHUFFLE	COMPRESS_BYTE_COUNT	554792
+SHUFFLE	COPY_MAP_DATA	296741000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1881051
+SHUFFLE	COMPRESS_BYTE_COUNT	517811
+SHUFFLE	COPY_MAP_DATA	107300000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1916486
+SHUFFLE	COMPRESS_BYTE_COUNT	519948
+SHUFFLE	COPY_MAP_DATA	36777000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1763046
+SHUFFLE	COMPRESS_BYTE_COUNT	497608
+SHUFFLE	COPY_MAP_DATA	218766000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1792499
+SHUFFLE	COMPRESS_BYTE_COUNT	495148
+SHUFFLE	COPY_MAP_DATA	45723000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1964813
+SHUFFLE	COMPRESS_BYTE_COUNT	529140
+SHUFFLE	COPY_MAP_DATA	98250000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2020669
+SHUFFLE	COMPRESS_BYTE_COUNT	573645
+SHUFFLE	COPY_MAP_DATA	32849000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2035950
+SHUFFLE	COMPRESS_BYTE_COUNT	552382
+SHUFFLE	COPY_MAP_DATA	29928000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2083362
+SHUFFLE	COMPRESS_BYTE_COUNT	553403
+SHUFFLE	COPY_MAP_DATA	58577000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2023069
+SHUFFLE	COMPRESS_BYTE_COUNT	562232
+SHUFFLE	COPY_MAP_DATA	606966000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2084880
+SHUFFLE	COMPRESS_BYTE_COUNT	567141
+SHUFFLE	COPY_MAP_DATA	322360000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1938251
+SHUFFLE	COMPRESS_BYTE_COUNT	550851
+SHUFFLE	COPY_MAP_DATA	181320000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1917678
+SHUFFLE	COMPRESS_BYTE_COUNT	547603
+SHUFFLE	COPY_MAP_DATA	29479000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1703004
+SHUFFLE	COMPRESS_BYTE_COUNT	487196
+SHUFFLE	COPY_MAP_DATA	239091000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1805794
+SHUFFLE	COMPRESS_BYTE_COUNT	501698
+SHUFFLE	COPY_MAP_DATA	48523000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1865319
+SHUFFLE	COMPRESS_BYTE_COUNT	478332
+SHUFFLE	COPY_MAP_DATA	36432000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1829870
+SHUFFLE	COMPRESS_BYTE_COUNT	508106
+SHUFFLE	COPY_MAP_DATA	57184000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1755621
+SHUFFLE	COMPRESS_BYTE_COUNT	501610
+SHUFFLE	COPY_MAP_DATA	4988440000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1883628
+SHUFFLE	COMPRESS_BYTE_COUNT	511494
+SHUFFLE	COPY_MAP_DATA	84432000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2095820
+SHUFFLE	COMPRESS_BYTE_COUNT	565459
+SHUFFLE	COPY_MAP_DATA	166728000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1684303
+SHUFFLE	COMPRESS_BYTE_COUNT	472798
+SHUFFLE	COPY_MAP_DATA	28418000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1754196
+SHUFFLE	COMPRESS_BYTE_COUNT	495531
+SHUFFLE	COPY_MAP_DATA	100267000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1675874
+SHUFFLE	COMPRESS_BYTE_COUNT	462284
+SHUFFLE	COPY_MAP_DATA	27874000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1851173
+SHUFFLE	COMPRESS_BYTE_COUNT	490342
+SHUFFLE	COPY_MAP_DATA	355761000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1697345
+SHUFFLE	COMPRESS_BYTE_COUNT	467954
+SHUFFLE	COPY_MAP_DATA	1198387000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1744254
+SHUFFLE	COMPRESS_BYTE_COUNT	487965
+SHUFFLE	COPY_MAP_DATA	202845000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1807309
+SHUFFLE	COMPRESS_BYTE_COUNT	478181
+SHUFFLE	COPY_MAP_DATA	27911000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1696911
+SHUFFLE	COMPRESS_BYTE_COUNT	481357
+SHUFFLE	COPY_MAP_DATA	118230000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1744356
+SHUFFLE	COMPRESS_BYTE_COUNT	488563
+SHUFFLE	COPY_MAP_DATA	30887000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1774766
+SHUFFLE	COMPRESS_BYTE_COUNT	495817
+SHUFFLE	COPY_MAP_DATA	47732000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1678732
+SHUFFLE	COMPRESS_BYTE_COUNT	467227
+SHUFFLE	COPY_MAP_DATA	28422000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1753517
+SHUFFLE	COMPRESS_BYTE_COUNT	490253
+SHUFFLE	COPY_MAP_DATA	27479000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2035964
+SHUFFLE	COMPRESS_BYTE_COUNT	601163
+SHUFFLE	COPY_MAP_DATA	50775000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1961847
+SHUFFLE	COMPRESS_BYTE_COUNT	540935
+SHUFFLE	COPY_MAP_DATA	108530000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1932815
+SHUFFLE	COMPRESS_BYTE_COUNT	580386
+SHUFFLE	COPY_MAP_DATA	72953000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1789424
+SHUFFLE	COMPRESS_BYTE_COUNT	497622
+SHUFFLE	COPY_MAP_DATA	48133000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1801099
+SHUFFLE	COMPRESS_BYTE_COUNT	495707
+SHUFFLE	COPY_MAP_DATA	209081000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1919150
+SHUFFLE	COMPRESS_BYTE_COUNT	552398
+SHUFFLE	COPY_MAP_DATA	159707000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1787275
+SHUFFLE	COMPRESS_BYTE_COUNT	494356
+SHUFFLE	COPY_MAP_DATA	1045608000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1916324
+SHUFFLE	COMPRESS_BYTE_COUNT	559116
+SHUFFLE	COPY_MAP_DATA	525582000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	906641
+SHUFFLE	COMPRESS_BYTE_COUNT	243284
+SHUFFLE	COPY_MAP_DATA	1840341000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1611549
+SHUFFLE	COMPRESS_BYTE_COUNT	454557
+SHUFFLE	COPY_MAP_DATA	291929000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1702018
+SHUFFLE	COMPRESS_BYTE_COUNT	464664
+SHUFFLE	COPY_MAP_DATA	70380000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1996767
+SHUFFLE	COMPRESS_BYTE_COUNT	496082
+SHUFFLE	COPY_MAP_DATA	152315000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1068966
+SHUFFLE	COMPRESS_BYTE_COUNT	273800
+SHUFFLE	COPY_MAP_DATA	150444000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	986838
+SHUFFLE	COMPRESS_BYTE_COUNT	275732
+SHUFFLE	COPY_MAP_DATA	1080829000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	913439
+SHUFFLE	COMPRESS_BYTE_COUNT	251903
+SHUFFLE	COPY_MAP_DATA	14992000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1761611
+SHUFFLE	COMPRESS_BYTE_COUNT	482829
+SHUFFLE	COPY_MAP_DATA	44427000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	850978
+SHUFFLE	COMPRESS_BYTE_COUNT	245785
+SHUFFLE	COPY_MAP_DATA	20216000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1599000
+SHUFFLE	COMPRESS_BYTE_COUNT	464132
+SHUFFLE	COPY_MAP_DATA	44165000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	938573
+SHUFFLE	COMPRESS_BYTE_COUNT	254188
+SHUFFLE	COPY_MAP_DATA	60121000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1097940
+SHUFFLE	COMPRESS_BYTE_COUNT	302811
+SHUFFLE	COPY_MAP_DATA	19126000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1525751
+SHUFFLE	COMPRESS_BYTE_COUNT	437917
+SHUFFLE	COPY_MAP_DATA	24067000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1828485
+SHUFFLE	COMPRESS_BYTE_COUNT	494269
+SHUFFLE	COPY_MAP_DATA	117571000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1631629
+SHUFFLE	COMPRESS_BYTE_COUNT	461181
+SHUFFLE	COPY_MAP_DATA	1498185000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1608694
+SHUFFLE	COMPRESS_BYTE_COUNT	444940
+SHUFFLE	COPY_MAP_DATA	44706000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1761791
+SHUFFLE	COMPRESS_BYTE_COUNT	501545
+SHUFFLE	COPY_MAP_DATA	35413000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1661807
+SHUFFLE	COMPRESS_BYTE_COUNT	454767
+SHUFFLE	COPY_MAP_DATA	297624000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1128238
+SHUFFLE	COMPRESS_BYTE_COUNT	306306
+SHUFFLE	COPY_MAP_DATA	476813000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1629577
+SHUFFLE	COMPRESS_BYTE_COUNT	459354
+SHUFFLE	COPY_MAP_DATA	242462000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1866398
+SHUFFLE	COMPRESS_BYTE_COUNT	550114
+SHUFFLE	COPY_MAP_DATA	28214000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1094376
+SHUFFLE	COMPRESS_BYTE_COUNT	296581
+SHUFFLE	COPY_MAP_DATA	17526000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1899588
+SHUFFLE	COMPRESS_BYTE_COUNT	532762
+SHUFFLE	COPY_MAP_DATA	87808000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1025649
+SHUFFLE	COMPRESS_BYTE_COUNT	288570
+SHUFFLE	COPY_MAP_DATA	18044000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1141393
+SHUFFLE	COMPRESS_BYTE_COUNT	301271
+SHUFFLE	COPY_MAP_DATA	36039000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1708315
+SHUFFLE	COMPRESS_BYTE_COUNT	480401
+SHUFFLE	COPY_MAP_DATA	86364000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	3743952
+SHUFFLE	COMPRESS_BYTE_COUNT	480215
+SHUFFLE	COPY_MAP_DATA	37644000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1761555
+SHUFFLE	COMPRESS_BYTE_COUNT	486364
+SHUFFLE	COPY_MAP_DATA	26142000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1034828
+SHUFFLE	COMPRESS_BYTE_COUNT	290464
+SHUFFLE	COPY_MAP_DATA	21913000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1769930
+SHUFFLE	COMPRESS_BYTE_COUNT	513000
+SHUFFLE	COPY_MAP_DATA	29418000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1076732
+SHUFFLE	COMPRESS_BYTE_COUNT	301457
+SHUFFLE	COPY_MAP_DATA	139259000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1640962
+SHUFFLE	COMPRESS_BYTE_COUNT	469509
+SHUFFLE	COPY_MAP_DATA	26572000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1920346
+SHUFFLE	COMPRESS_BYTE_COUNT	546648
+SHUFFLE	COPY_MAP_DATA	50453000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1746827
+SHUFFLE	COMPRESS_BYTE_COUNT	495558
+SHUFFLE	COPY_MAP_DATA	49164000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1067942
+SHUFFLE	COMPRESS_BYTE_COUNT	298810
+SHUFFLE	COPY_MAP_DATA	27266000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1115221
+SHUFFLE	COMPRESS_BYTE_COUNT	310507
+SHUFFLE	COPY_MAP_DATA	20808000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1020843
+SHUFFLE	COMPRESS_BYTE_COUNT	303140
+SHUFFLE	COPY_MAP_DATA	206855000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1128052
+SHUFFLE	COMPRESS_BYTE_COUNT	305570
+SHUFFLE	COPY_MAP_DATA	17506000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1062682
+SHUFFLE	COMPRESS_BYTE_COUNT	304069
+SHUFFLE	COPY_MAP_DATA	18615000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1098250
+SHUFFLE	COMPRESS_BYTE_COUNT	281155
+SHUFFLE	COPY_MAP_DATA	54732000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1073049
+SHUFFLE	COMPRESS_BYTE_COUNT	302879
+SHUFFLE	COPY_MAP_DATA	84177000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1129379
+SHUFFLE	COMPRESS_BYTE_COUNT	317357
+SHUFFLE	COPY_MAP_DATA	99295000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1099038
+SHUFFLE	COMPRESS_BYTE_COUNT	306899
+SHUFFLE	COPY_MAP_DATA	18421000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1088566
+SHUFFLE	COMPRESS_BYTE_COUNT	304478
+SHUFFLE	COPY_MAP_DATA	17360000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1086405
+SHUFFLE	COMPRESS_BYTE_COUNT	305840
+SHUFFLE	COPY_MAP_DATA	34684000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1072704
+SHUFFLE	COMPRESS_BYTE_COUNT	309627
+SHUFFLE	COPY_MAP_DATA	17655000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1111573
+SHUFFLE	COMPRESS_BYTE_COUNT	315877
+SHUFFLE	COPY_MAP_DATA	19374000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1216087
+SHUFFLE	COMPRESS_BYTE_COUNT	309588
+SHUFFLE	COPY_MAP_DATA	3940046000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1084563
+SHUFFLE	COMPRESS_BYTE_COUNT	307856
+SHUFFLE	COPY_MAP_DATA	28693000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1071964
+SHUFFLE	COMPRESS_BYTE_COUNT	303952
+SHUFFLE	COPY_MAP_DATA	251913000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1087776
+SHUFFLE	COMPRESS_BYTE_COUNT	303895
+SHUFFLE	COPY_MAP_DATA	40902000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1153380
+SHUFFLE	COMPRESS_BYTE_COUNT	324253
+SHUFFLE	COPY_MAP_DATA	67060000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1062352
+SHUFFLE	COMPRESS_BYTE_COUNT	299069
+SHUFFLE	COPY_MAP_DATA	126165000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1057229
+SHUFFLE	COMPRESS_BYTE_COUNT	305241
+SHUFFLE	COPY_MAP_DATA	38867000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1066034
+SHUFFLE	COMPRESS_BYTE_COUNT	309504
+SHUFFLE	COPY_MAP_DATA	529014000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1068707
+SHUFFLE	COMPRESS_BYTE_COUNT	309172
+SHUFFLE	COPY_MAP_DATA	38738000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1082770
+SHUFFLE	COMPRESS_BYTE_COUNT	308468
+SHUFFLE	COPY_MAP_DATA	18272000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1059319
+SHUFFLE	COMPRESS_BYTE_COUNT	306655
+SHUFFLE	COPY_MAP_DATA	20116000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1091193
+SHUFFLE	COMPRESS_BYTE_COUNT	313990
+SHUFFLE	COPY_MAP_DATA	57392000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1068205
+SHUFFLE	COMPRESS_BYTE_COUNT	301618
+SHUFFLE	COPY_MAP_DATA	20095000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1012780
+SHUFFLE	COMPRESS_BYTE_COUNT	297482
+SHUFFLE	COPY_MAP_DATA	155152000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1213891
+SHUFFLE	COMPRESS_BYTE_COUNT	322379
+SHUFFLE	COPY_MAP_DATA	117716000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1044051
+SHUFFLE	COMPRESS_BYTE_COUNT	309654
+SHUFFLE	COPY_MAP_DATA	47887000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1027740
+SHUFFLE	COMPRESS_BYTE_COUNT	286739
+SHUFFLE	COPY_MAP_DATA	53373000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1067312
+SHUFFLE	COMPRESS_BYTE_COUNT	310805
+SHUFFLE	COPY_MAP_DATA	426096000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1279423
+SHUFFLE	COMPRESS_BYTE_COUNT	307488
+SHUFFLE	COPY_MAP_DATA	60902000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1101558
+SHUFFLE	COMPRESS_BYTE_COUNT	306693
+SHUFFLE	COPY_MAP_DATA	233215000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1033104
+SHUFFLE	COMPRESS_BYTE_COUNT	303637
+SHUFFLE	COPY_MAP_DATA	72300000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1021350
+SHUFFLE	COMPRESS_BYTE_COUNT	305018
+SHUFFLE	COPY_MAP_DATA	18205000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1348682
+SHUFFLE	COMPRESS_BYTE_COUNT	299527
+SHUFFLE	COPY_MAP_DATA	84368000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1099039
+SHUFFLE	COMPRESS_BYTE_COUNT	315569
+SHUFFLE	COPY_MAP_DATA	17395000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1011212
+SHUFFLE	COMPRESS_BYTE_COUNT	300637
+SHUFFLE	COPY_MAP_DATA	17752000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1050790
+SHUFFLE	COMPRESS_BYTE_COUNT	277323
+SHUFFLE	COPY_MAP_DATA	36917000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1090769
+SHUFFLE	COMPRESS_BYTE_COUNT	302852
+SHUFFLE	COPY_MAP_DATA	19580000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1030458
+SHUFFLE	COMPRESS_BYTE_COUNT	302456
+SHUFFLE	COPY_MAP_DATA	109705000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1025860
+SHUFFLE	COMPRESS_BYTE_COUNT	307945
+SHUFFLE	COPY_MAP_DATA	55552000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1031148
+SHUFFLE	COMPRESS_BYTE_COUNT	305656
+SHUFFLE	COPY_MAP_DATA	17381000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1008650
+SHUFFLE	COMPRESS_BYTE_COUNT	294820
+SHUFFLE	COPY_MAP_DATA	17846000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1039737
+SHUFFLE	COMPRESS_BYTE_COUNT	303498
+SHUFFLE	COPY_MAP_DATA	23808000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1089911
+SHUFFLE	COMPRESS_BYTE_COUNT	314210
+SHUFFLE	COPY_MAP_DATA	193715000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1038526
+SHUFFLE	COMPRESS_BYTE_COUNT	297279
+SHUFFLE	COPY_MAP_DATA	75701000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1042003
+SHUFFLE	COMPRESS_BYTE_COUNT	303188
+SHUFFLE	COPY_MAP_DATA	107532000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1082991
+SHUFFLE	COMPRESS_BYTE_COUNT	305299
+SHUFFLE	COPY_MAP_DATA	36957000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1095646
+SHUFFLE	COMPRESS_BYTE_COUNT	311916
+SHUFFLE	COPY_MAP_DATA	120755000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1048365
+SHUFFLE	COMPRESS_BYTE_COUNT	303820
+SHUFFLE	COPY_MAP_DATA	147556000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	970114
+SHUFFLE	COMPRESS_BYTE_COUNT	290083
+SHUFFLE	COPY_MAP_DATA	48715000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1007874
+SHUFFLE	COMPRESS_BYTE_COUNT	299409
+SHUFFLE	COPY_MAP_DATA	38406000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1088967
+SHUFFLE	COMPRESS_BYTE_COUNT	315116
+SHUFFLE	COPY_MAP_DATA	22230000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1005924
+SHUFFLE	COMPRESS_BYTE_COUNT	295194
+SHUFFLE	COPY_MAP_DATA	31775000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1038775
+SHUFFLE	COMPRESS_BYTE_COUNT	302603
+SHUFFLE	COPY_MAP_DATA	21958000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1036596
+SHUFFLE	COMPRESS_BYTE_COUNT	301467
+SHUFFLE	COPY_MAP_DATA	2646792000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1045190
+SHUFFLE	COMPRESS_BYTE_COUNT	311287
+SHUFFLE	COPY_MAP_DATA	18369000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1057142
+SHUFFLE	COMPRESS_BYTE_COUNT	311088
+SHUFFLE	COPY_MAP_DATA	19226000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1039761
+SHUFFLE	COMPRESS_BYTE_COUNT	304597
+SHUFFLE	COPY_MAP_DATA	61966000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1005746
+SHUFFLE	COMPRESS_BYTE_COUNT	293175
+SHUFFLE	COPY_MAP_DATA	745523000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	965504
+SHUFFLE	COMPRESS_BYTE_COUNT	287616
+SHUFFLE	COPY_MAP_DATA	17472000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1014161
+SHUFFLE	COMPRESS_BYTE_COUNT	295381
+SHUFFLE	COPY_MAP_DATA	21987000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1016707
+SHUFFLE	COMPRESS_BYTE_COUNT	299909
+SHUFFLE	COPY_MAP_DATA	18866000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	985118
+SHUFFLE	COMPRESS_BYTE_COUNT	289332
+SHUFFLE	COPY_MAP_DATA	18699000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1048697
+SHUFFLE	COMPRESS_BYTE_COUNT	306058
+SHUFFLE	COPY_MAP_DATA	19035000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	989099
+SHUFFLE	COMPRESS_BYTE_COUNT	292527
+SHUFFLE	COPY_MAP_DATA	51572000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	973472
+SHUFFLE	COMPRESS_BYTE_COUNT	295012
+SHUFFLE	COPY_MAP_DATA	14584000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1004010
+SHUFFLE	COMPRESS_BYTE_COUNT	300225
+SHUFFLE	COPY_MAP_DATA	417911000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	980361
+SHUFFLE	COMPRESS_BYTE_COUNT	284752
+SHUFFLE	COPY_MAP_DATA	18470000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1010371
+SHUFFLE	COMPRESS_BYTE_COUNT	303023
+SHUFFLE	COPY_MAP_DATA	74191000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	977419
+SHUFFLE	COMPRESS_BYTE_COUNT	284786
+SHUFFLE	COPY_MAP_DATA	17041000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1017528
+SHUFFLE	COMPRESS_BYTE_COUNT	302219
+SHUFFLE	COPY_MAP_DATA	110059000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1031907
+SHUFFLE	COMPRESS_BYTE_COUNT	304744
+SHUFFLE	COPY_MAP_DATA	112302000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	964470
+SHUFFLE	COMPRESS_BYTE_COUNT	290189
+SHUFFLE	COPY_MAP_DATA	105379000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1005996
+SHUFFLE	COMPRESS_BYTE_COUNT	291788
+SHUFFLE	COPY_MAP_DATA	25885000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	961015
+SHUFFLE	COMPRESS_BYTE_COUNT	293529
+SHUFFLE	COPY_MAP_DATA	21807000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1018035
+SHUFFLE	COMPRESS_BYTE_COUNT	296086
+SHUFFLE	COPY_MAP_DATA	113858000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	998650
+SHUFFLE	COMPRESS_BYTE_COUNT	287735
+SHUFFLE	COPY_MAP_DATA	57700000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1031412
+SHUFFLE	COMPRESS_BYTE_COUNT	287629
+SHUFFLE	COPY_MAP_DATA	19311000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	958978
+SHUFFLE	COMPRESS_BYTE_COUNT	288000
+SHUFFLE	COPY_MAP_DATA	48938000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	935021
+SHUFFLE	COMPRESS_BYTE_COUNT	262220
+SHUFFLE	COPY_MAP_DATA	185182000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	949154
+SHUFFLE	COMPRESS_BYTE_COUNT	279896
+SHUFFLE	COPY_MAP_DATA	2471549000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	889080
+SHUFFLE	COMPRESS_BYTE_COUNT	262457
+SHUFFLE	COPY_MAP_DATA	73390000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1026122
+SHUFFLE	COMPRESS_BYTE_COUNT	299503
+SHUFFLE	COPY_MAP_DATA	23453000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	925456
+SHUFFLE	COMPRESS_BYTE_COUNT	276575
+SHUFFLE	COPY_MAP_DATA	3155632000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	980829
+SHUFFLE	COMPRESS_BYTE_COUNT	284591
+SHUFFLE	COPY_MAP_DATA	17470000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	935582
+SHUFFLE	COMPRESS_BYTE_COUNT	282772
+SHUFFLE	COPY_MAP_DATA	72095000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1022575
+SHUFFLE	COMPRESS_BYTE_COUNT	304016
+SHUFFLE	COPY_MAP_DATA	54003000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1003143
+SHUFFLE	COMPRESS_BYTE_COUNT	291614
+SHUFFLE	COPY_MAP_DATA	37165000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	906668
+SHUFFLE	COMPRESS_BYTE_COUNT	260514
+SHUFFLE	COPY_MAP_DATA	35877000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	997123
+SHUFFLE	COMPRESS_BYTE_COUNT	295587
+SHUFFLE	COPY_MAP_DATA	17270000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1009830
+SHUFFLE	COMPRESS_BYTE_COUNT	275854
+SHUFFLE	COPY_MAP_DATA	32213000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	903519
+SHUFFLE	COMPRESS_BYTE_COUNT	276165
+SHUFFLE	COPY_MAP_DATA	93174000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	886704
+SHUFFLE	COMPRESS_BYTE_COUNT	256555
+SHUFFLE	COPY_MAP_DATA	35322000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1025948
+SHUFFLE	COMPRESS_BYTE_COUNT	287479
+SHUFFLE	COPY_MAP_DATA	96452000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	953367
+SHUFFLE	COMPRESS_BYTE_COUNT	269265
+SHUFFLE	COPY_MAP_DATA	18472000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	865527
+SHUFFLE	COMPRESS_BYTE_COUNT	253865
+SHUFFLE	COPY_MAP_DATA	26526000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	919092
+SHUFFLE	COMPRESS_BYTE_COUNT	263907
+SHUFFLE	COPY_MAP_DATA	88326000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1007533
+SHUFFLE	COMPRESS_BYTE_COUNT	279551
+SHUFFLE	COPY_MAP_DATA	75743000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	963615
+SHUFFLE	COMPRESS_BYTE_COUNT	282501
+SHUFFLE	COPY_MAP_DATA	76664000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	969820
+SHUFFLE	COMPRESS_BYTE_COUNT	275464
+SHUFFLE	COPY_MAP_DATA	14380000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1039745
+SHUFFLE	COMPRESS_BYTE_COUNT	297385
+SHUFFLE	COPY_MAP_DATA	24307000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	857115
+SHUFFLE	COMPRESS_BYTE_COUNT	253772
+SHUFFLE	COPY_MAP_DATA	72095000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	873622
+SHUFFLE	COMPRESS_BYTE_COUNT	252904
+SHUFFLE	COPY_MAP_DATA	15674000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1043619
+SHUFFLE	COMPRESS_BYTE_COUNT	278309
+SHUFFLE	COPY_MAP_DATA	17407000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	971175
+SHUFFLE	COMPRESS_BYTE_COUNT	262718
+SHUFFLE	COPY_MAP_DATA	15333000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	928983
+SHUFFLE	COMPRESS_BYTE_COUNT	270424
+SHUFFLE	COPY_MAP_DATA	15151000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	808538
+SHUFFLE	COMPRESS_BYTE_COUNT	237945
+SHUFFLE	COPY_MAP_DATA	20162000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	946032
+SHUFFLE	COMPRESS_BYTE_COUNT	274393
+SHUFFLE	COPY_MAP_DATA	16161000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1595907
+SHUFFLE	COMPRESS_BYTE_COUNT	272323
+SHUFFLE	COPY_MAP_DATA	257673000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1064410
+SHUFFLE	COMPRESS_BYTE_COUNT	298546
+SHUFFLE	COPY_MAP_DATA	69722000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	850456
+SHUFFLE	COMPRESS_BYTE_COUNT	255886
+SHUFFLE	COPY_MAP_DATA	58705000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	961535
+SHUFFLE	COMPRESS_BYTE_COUNT	265344
+SHUFFLE	COPY_MAP_DATA	15710000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	826861
+SHUFFLE	COMPRESS_BYTE_COUNT	239848
+SHUFFLE	COPY_MAP_DATA	471290000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	912455
+SHUFFLE	COMPRESS_BYTE_COUNT	268094
+SHUFFLE	COPY_MAP_DATA	75697000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	823366
+SHUFFLE	COMPRESS_BYTE_COUNT	246223
+SHUFFLE	COPY_MAP_DATA	60078000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	887831
+SHUFFLE	COMPRESS_BYTE_COUNT	259562
+SHUFFLE	COPY_MAP_DATA	28202000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	873102
+SHUFFLE	COMPRESS_BYTE_COUNT	249587
+SHUFFLE	COPY_MAP_DATA	15527000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	918824
+SHUFFLE	COMPRESS_BYTE_COUNT	264408
+SHUFFLE	COPY_MAP_DATA	14973000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	898630
+SHUFFLE	COMPRESS_BYTE_COUNT	249772
+SHUFFLE	COPY_MAP_DATA	15216000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	908955
+SHUFFLE	COMPRESS_BYTE_COUNT	258623
+SHUFFLE	COPY_MAP_DATA	298411000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	862157
+SHUFFLE	COMPRESS_BYTE_COUNT	261398
+SHUFFLE	COPY_MAP_DATA	656178000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	885833
+SHUFFLE	COMPRESS_BYTE_COUNT	251585
+SHUFFLE	COPY_MAP_DATA	22516000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	918353
+SHUFFLE	COMPRESS_BYTE_COUNT	247356
+SHUFFLE	COPY_MAP_DATA	16849000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1019060
+SHUFFLE	COMPRESS_BYTE_COUNT	286968
+SHUFFLE	COPY_MAP_DATA	45133000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	836815
+SHUFFLE	COMPRESS_BYTE_COUNT	245938
+SHUFFLE	COPY_MAP_DATA	12686593000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	850858
+SHUFFLE	COMPRESS_BYTE_COUNT	251822
+SHUFFLE	COPY_MAP_DATA	15401000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	889831
+SHUFFLE	COMPRESS_BYTE_COUNT	267140
+SHUFFLE	COPY_MAP_DATA	86004000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	942789
+SHUFFLE	COMPRESS_BYTE_COUNT	271536
+SHUFFLE	COPY_MAP_DATA	54201000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	941784
+SHUFFLE	COMPRESS_BYTE_COUNT	239910
+SHUFFLE	COPY_MAP_DATA	14749000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	881245
+SHUFFLE	COMPRESS_BYTE_COUNT	258362
+SHUFFLE	COPY_MAP_DATA	15976000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1212600
+SHUFFLE	COMPRESS_BYTE_COUNT	371871
+SHUFFLE	COPY_MAP_DATA	680566000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	870486
+SHUFFLE	COMPRESS_BYTE_COUNT	246702
+SHUFFLE	COPY_MAP_DATA	389087000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	905927
+SHUFFLE	COMPRESS_BYTE_COUNT	267183
+SHUFFLE	COPY_MAP_DATA	75330000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	834065
+SHUFFLE	COMPRESS_BYTE_COUNT	245101
+SHUFFLE	COPY_MAP_DATA	46072000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	826369
+SHUFFLE	COMPRESS_BYTE_COUNT	238203
+SHUFFLE	COPY_MAP_DATA	63477000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	938338
+SHUFFLE	COMPRESS_BYTE_COUNT	275327
+SHUFFLE	COPY_MAP_DATA	45923000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	876505
+SHUFFLE	COMPRESS_BYTE_COUNT	255690
+SHUFFLE	COPY_MAP_DATA	203002000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	893523
+SHUFFLE	COMPRESS_BYTE_COUNT	254688
+SHUFFLE	COPY_MAP_DATA	111027000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	845472
+SHUFFLE	COMPRESS_BYTE_COUNT	239403
+SHUFFLE	COPY_MAP_DATA	35067000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	999771
+SHUFFLE	COMPRESS_BYTE_COUNT	287708
+SHUFFLE	COPY_MAP_DATA	43954000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	846055
+SHUFFLE	COMPRESS_BYTE_COUNT	246282
+SHUFFLE	COPY_MAP_DATA	1635532000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	990408
+SHUFFLE	COMPRESS_BYTE_COUNT	273333
+SHUFFLE	COPY_MAP_DATA	546835000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	847490
+SHUFFLE	COMPRESS_BYTE_COUNT	243754
+SHUFFLE	COPY_MAP_DATA	42059000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	822090
+SHUFFLE	COMPRESS_BYTE_COUNT	232022
+SHUFFLE	COPY_MAP_DATA	13671000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	865792
+SHUFFLE	COMPRESS_BYTE_COUNT	251788
+SHUFFLE	COPY_MAP_DATA	40923000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	882099
+SHUFFLE	COMPRESS_BYTE_COUNT	243810
+SHUFFLE	COPY_MAP_DATA	14914000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	853661
+SHUFFLE	COMPRESS_BYTE_COUNT	246093
+SHUFFLE	COPY_MAP_DATA	15513000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	868453
+SHUFFLE	COMPRESS_BYTE_COUNT	245364
+SHUFFLE	COPY_MAP_DATA	107760000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	810754
+SHUFFLE	COMPRESS_BYTE_COUNT	241267
+SHUFFLE	COPY_MAP_DATA	14749000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	848271
+SHUFFLE	COMPRESS_BYTE_COUNT	245583
+SHUFFLE	COPY_MAP_DATA	14480000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	875651
+SHUFFLE	COMPRESS_BYTE_COUNT	242932
+SHUFFLE	COPY_MAP_DATA	15787000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	777246
+SHUFFLE	COMPRESS_BYTE_COUNT	228691
+SHUFFLE	COPY_MAP_DATA	265967000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	812674
+SHUFFLE	COMPRESS_BYTE_COUNT	237152
+SHUFFLE	COPY_MAP_DATA	81300000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1082361
+SHUFFLE	COMPRESS_BYTE_COUNT	341607
+SHUFFLE	COPY_MAP_DATA	296480000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	825073
+SHUFFLE	COMPRESS_BYTE_COUNT	237612
+SHUFFLE	COPY_MAP_DATA	14328000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	814568
+SHUFFLE	COMPRESS_BYTE_COUNT	238771
+SHUFFLE	COPY_MAP_DATA	92778000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	946968
+SHUFFLE	COMPRESS_BYTE_COUNT	246616
+SHUFFLE	COPY_MAP_DATA	542609000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	919134
+SHUFFLE	COMPRESS_BYTE_COUNT	258472
+SHUFFLE	COPY_MAP_DATA	30838000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	876291
+SHUFFLE	COMPRESS_BYTE_COUNT	249277
+SHUFFLE	COPY_MAP_DATA	87971000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	974407
+SHUFFLE	COMPRESS_BYTE_COUNT	274251
+SHUFFLE	COPY_MAP_DATA	36901000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	964263
+SHUFFLE	COMPRESS_BYTE_COUNT	272821
+SHUFFLE	COPY_MAP_DATA	35866000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	881967
+SHUFFLE	COMPRESS_BYTE_COUNT	254585
+SHUFFLE	COPY_MAP_DATA	92716000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	913135
+SHUFFLE	COMPRESS_BYTE_COUNT	265091
+SHUFFLE	COPY_MAP_DATA	188122000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	789256
+SHUFFLE	COMPRESS_BYTE_COUNT	230852
+SHUFFLE	COPY_MAP_DATA	149499000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	931002
+SHUFFLE	COMPRESS_BYTE_COUNT	269200
+SHUFFLE	COPY_MAP_DATA	21757000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	821032
+SHUFFLE	COMPRESS_BYTE_COUNT	237707
+SHUFFLE	COPY_MAP_DATA	14779000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1005703
+SHUFFLE	COMPRESS_BYTE_COUNT	268884
+SHUFFLE	COPY_MAP_DATA	16551000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	873962
+SHUFFLE	COMPRESS_BYTE_COUNT	258550
+SHUFFLE	COPY_MAP_DATA	3162434000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	823014
+SHUFFLE	COMPRESS_BYTE_COUNT	238941
+SHUFFLE	COPY_MAP_DATA	29545000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	860363
+SHUFFLE	COMPRESS_BYTE_COUNT	243877
+SHUFFLE	COPY_MAP_DATA	113751000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	808617
+SHUFFLE	COMPRESS_BYTE_COUNT	240214
+SHUFFLE	COPY_MAP_DATA	14921000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	861679
+SHUFFLE	COMPRESS_BYTE_COUNT	246593
+SHUFFLE	COPY_MAP_DATA	37768000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	947381
+SHUFFLE	COMPRESS_BYTE_COUNT	275265
+SHUFFLE	COPY_MAP_DATA	50063000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	891509
+SHUFFLE	COMPRESS_BYTE_COUNT	246898
+SHUFFLE	COPY_MAP_DATA	14385000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	899819
+SHUFFLE	COMPRESS_BYTE_COUNT	262502
+SHUFFLE	COPY_MAP_DATA	15574000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	928798
+SHUFFLE	COMPRESS_BYTE_COUNT	262049
+SHUFFLE	COPY_MAP_DATA	673638000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	821598
+SHUFFLE	COMPRESS_BYTE_COUNT	238658
+SHUFFLE	COPY_MAP_DATA	34797000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	887243
+SHUFFLE	COMPRESS_BYTE_COUNT	249496
+SHUFFLE	COPY_MAP_DATA	6092001000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	835143
+SHUFFLE	COMPRESS_BYTE_COUNT	243562
+SHUFFLE	COPY_MAP_DATA	79094000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1106478
+SHUFFLE	COMPRESS_BYTE_COUNT	330101
+SHUFFLE	COPY_MAP_DATA	20548000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	803013
+SHUFFLE	COMPRESS_BYTE_COUNT	232054
+SHUFFLE	COPY_MAP_DATA	954998000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	748333
+SHUFFLE	COMPRESS_BYTE_COUNT	215141
+SHUFFLE	COPY_MAP_DATA	16298000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1640642
+SHUFFLE	COMPRESS_BYTE_COUNT	245198
+SHUFFLE	COPY_MAP_DATA	19586000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	804025
+SHUFFLE	COMPRESS_BYTE_COUNT	231840
+SHUFFLE	COPY_MAP_DATA	24148000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	784434
+SHUFFLE	COMPRESS_BYTE_COUNT	240561
+SHUFFLE	COPY_MAP_DATA	16205000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	936978
+SHUFFLE	COMPRESS_BYTE_COUNT	264372
+SHUFFLE	COPY_MAP_DATA	17681000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	813926
+SHUFFLE	COMPRESS_BYTE_COUNT	243332
+SHUFFLE	COPY_MAP_DATA	17439000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	989346
+SHUFFLE	COMPRESS_BYTE_COUNT	294287
+SHUFFLE	COPY_MAP_DATA	121497000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	904292
+SHUFFLE	COMPRESS_BYTE_COUNT	262245
+SHUFFLE	COPY_MAP_DATA	19522000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	899878
+SHUFFLE	COMPRESS_BYTE_COUNT	254425
+SHUFFLE	COPY_MAP_DATA	51729000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	821032
+SHUFFLE	COMPRESS_BYTE_COUNT	237707
+SHUFFLE	COPY_MAP_DATA	34624000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	832815
+SHUFFLE	COMPRESS_BYTE_COUNT	240568
+SHUFFLE	COPY_MAP_DATA	14053000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	807981
+SHUFFLE	COMPRESS_BYTE_COUNT	234980
+SHUFFLE	COPY_MAP_DATA	14236000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1035234
+SHUFFLE	COMPRESS_BYTE_COUNT	247975
+SHUFFLE	COPY_MAP_DATA	37176000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2148047
+SHUFFLE	COMPRESS_BYTE_COUNT	251019
+SHUFFLE	COPY_MAP_DATA	72133000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	812437
+SHUFFLE	COMPRESS_BYTE_COUNT	230812
+SHUFFLE	COPY_MAP_DATA	16529000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	828527
+SHUFFLE	COMPRESS_BYTE_COUNT	252096
+SHUFFLE	COPY_MAP_DATA	18180000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	690610
+SHUFFLE	COMPRESS_BYTE_COUNT	209265
+SHUFFLE	COPY_MAP_DATA	13161000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	799448
+SHUFFLE	COMPRESS_BYTE_COUNT	238415
+SHUFFLE	COPY_MAP_DATA	22368000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1042704
+SHUFFLE	COMPRESS_BYTE_COUNT	324618
+SHUFFLE	COPY_MAP_DATA	19247000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	928062
+SHUFFLE	COMPRESS_BYTE_COUNT	292031
+SHUFFLE	COPY_MAP_DATA	17542000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	839719
+SHUFFLE	COMPRESS_BYTE_COUNT	239136
+SHUFFLE	COPY_MAP_DATA	15461000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	800112
+SHUFFLE	COMPRESS_BYTE_COUNT	250567
+SHUFFLE	COPY_MAP_DATA	14629000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	310222191000
+MERGE	READ_WRITE	309515399000
+MERGE	READ_WRITE_COUNT	3
+MERGE	COMBINE	0
+MERGE	WRITE	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	1242027000
+SORT	READ_WRITE	823570000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	203073312
+REDUCE	SETUP	393000
+REDUCE	SETUP_MEM	203073312
+REDUCE	CLEANUP	35000
+REDUCE	CLEANUP_MEM	220116888
+REDUCE	TOTAL_RUN	176978348637
+REDUCE	READ	17305078000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	151141918637
+REDUCE	WRITE	64834645637
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	80139618
+REDUCE	VALUE_BYTE_COUNT	73824336
+REDUCE	REDUCE_MEM	220118936
+REDUCE	WRITE	11521000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	844961674789
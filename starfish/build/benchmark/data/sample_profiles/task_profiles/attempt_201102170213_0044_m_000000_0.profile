@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00000	0
+MAP	STARTUP_MEM	214451000
+MAP	SETUP	438000
+MAP	SETUP_MEM	214451000
+MAP	CLEANUP	63000
+MAP	CLEANUP_MEM	247310712
+MAP	TOTAL_RUN	27369102000
+MAP	READ	10637758000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	57354
+MAP	VALUE_BYTE_COUNT	268414123
+MAP	MAP	16668052000
+MAP	WRITE	8101268000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1355294000
+MAP	SERIALIZE_OUTPUT	3387303000
+MAP	MAP_MEM	247310712
+SPILL	SORT_AND_SPILL	33172781000
+SPILL	QUICK_SORT	29492977000
+SPILL	SORT_COUNT	1590553
+SPILL	COMBINE	0
+SPILL	WRITE	3679804000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	45265902
+SPILL	COMPRESS_BYTE_COUNT	45266010
+MERGE	TOTAL_MERGE	1626000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	61234590000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00002	0
+MAP	STARTUP_MEM	216139952
+MAP	SETUP	512000
+MAP	SETUP_MEM	216139952
+MAP	CLEANUP	96000
+MAP	CLEANUP_MEM	243011896
+MAP	TOTAL_RUN	27722744000
+MAP	READ	11119049000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	107675
+MAP	VALUE_BYTE_COUNT	268376056
+MAP	MAP	16513158000
+MAP	WRITE	8342211000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1425728000
+MAP	SERIALIZE_OUTPUT	3420452000
+MAP	MAP_MEM	243011896
+SPILL	SORT_AND_SPILL	31700540000
+SPILL	QUICK_SORT	29034663000
+SPILL	SORT_COUNT	1616639
+SPILL	COMBINE	0
+SPILL	WRITE	2665877000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	48001766
+SPILL	COMPRESS_BYTE_COUNT	48001874
+MERGE	TOTAL_MERGE	1486000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	59966168000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00001	0
+MAP	STARTUP_MEM	215276528
+MAP	SETUP	494000
+MAP	SETUP_MEM	215276528
+MAP	CLEANUP	99000
+MAP	CLEANUP_MEM	241315168
+MAP	TOTAL_RUN	28416249000
+MAP	READ	10631580000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	82080
+MAP	VALUE_BYTE_COUNT	268365381
+MAP	MAP	17709183000
+MAP	WRITE	8630003000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1514787000
+MAP	SERIALIZE_OUTPUT	3545812000
+MAP	MAP_MEM	241315168
+SPILL	SORT_AND_SPILL	34083882000
+SPILL	QUICK_SORT	31284407000
+SPILL	SORT_COUNT	1727211
+SPILL	COMBINE	0
+SPILL	WRITE	2799475000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	49609832
+SPILL	COMPRESS_BYTE_COUNT	49609940
+MERGE	TOTAL_MERGE	1476000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	63228967000
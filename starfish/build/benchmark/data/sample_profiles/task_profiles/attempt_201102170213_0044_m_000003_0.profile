@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00005	0
+MAP	STARTUP_MEM	216101208
+MAP	SETUP	455000
+MAP	SETUP_MEM	216101208
+MAP	CLEANUP	94000
+MAP	CLEANUP_MEM	247310504
+MAP	TOTAL_RUN	29596439000
+MAP	READ	11288782000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	172350
+MAP	VALUE_BYTE_COUNT	268344071
+MAP	MAP	18180393000
+MAP	WRITE	9297554000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1635717000
+MAP	SERIALIZE_OUTPUT	3671516000
+MAP	MAP_MEM	247310504
+SPILL	SORT_AND_SPILL	35764356000
+SPILL	QUICK_SORT	32781579000
+SPILL	SORT_COUNT	1789374
+SPILL	COMBINE	0
+SPILL	WRITE	2982777000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	54812944
+SPILL	COMPRESS_BYTE_COUNT	54813052
+MERGE	TOTAL_MERGE	1447000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	65880428000
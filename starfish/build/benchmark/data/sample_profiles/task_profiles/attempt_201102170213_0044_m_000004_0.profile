@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00006	0
+MAP	STARTUP_MEM	216129336
+MAP	SETUP	455000
+MAP	SETUP_MEM	216129336
+MAP	CLEANUP	98000
+MAP	CLEANUP_MEM	227494032
+MAP	TOTAL_RUN	28870284000
+MAP	READ	10334625000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	206346
+MAP	VALUE_BYTE_COUNT	268336444
+MAP	MAP	18382843000
+MAP	WRITE	9149236000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1552178000
+MAP	SERIALIZE_OUTPUT	3657009000
+MAP	MAP_MEM	228349672
+SPILL	SORT_AND_SPILL	35058793000
+SPILL	QUICK_SORT	32200696000
+SPILL	SORT_COUNT	1738287
+SPILL	COMBINE	0
+SPILL	WRITE	2858097000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	53560518
+SPILL	COMPRESS_BYTE_COUNT	53560626
+MERGE	TOTAL_MERGE	1578000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	64510126000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00008	0
+MAP	STARTUP_MEM	215285616
+MAP	SETUP	544000
+MAP	SETUP_MEM	215285616
+MAP	CLEANUP	116000
+MAP	CLEANUP_MEM	238301504
+MAP	TOTAL_RUN	34842317971
+MAP	READ	12139748971
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	262128
+MAP	VALUE_BYTE_COUNT	268313339
+MAP	MAP	22430385000
+MAP	WRITE	11237041000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1828478000
+MAP	SERIALIZE_OUTPUT	4224690000
+MAP	MAP_MEM	238301504
+SPILL	SORT_AND_SPILL	47445744666
+SPILL	QUICK_SORT	44149651000
+SPILL	SORT_COUNT	1742156
+SPILL	COMBINE	0
+SPILL	WRITE	3296093666
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	54108468
+SPILL	COMPRESS_BYTE_COUNT	54108576
+MERGE	TOTAL_MERGE	3565000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	82991549637
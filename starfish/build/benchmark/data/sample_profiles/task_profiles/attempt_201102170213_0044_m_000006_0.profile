@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00007	0
+MAP	STARTUP_MEM	214399200
+MAP	SETUP	431000
+MAP	SETUP_MEM	214399200
+MAP	CLEANUP	91000
+MAP	CLEANUP_MEM	234493176
+MAP	TOTAL_RUN	28666312000
+MAP	READ	10765313000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	229014
+MAP	VALUE_BYTE_COUNT	268315235
+MAP	MAP	17673115000
+MAP	WRITE	8857594000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1521967000
+MAP	SERIALIZE_OUTPUT	3502671000
+MAP	MAP_MEM	234493176
+SPILL	SORT_AND_SPILL	32945857000
+SPILL	QUICK_SORT	30198079000
+SPILL	SORT_COUNT	1666418
+SPILL	COMBINE	0
+SPILL	WRITE	2747778000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	51759440
+SPILL	COMPRESS_BYTE_COUNT	51759548
+MERGE	TOTAL_MERGE	1462000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	62152560000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00009	0
+MAP	STARTUP_MEM	214422552
+MAP	SETUP	954000
+MAP	SETUP_MEM	215278192
+MAP	CLEANUP	97000
+MAP	CLEANUP_MEM	239217888
+MAP	TOTAL_RUN	28480734000
+MAP	READ	10209047000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	267822
+MAP	VALUE_BYTE_COUNT	268333757
+MAP	MAP	18108931000
+MAP	WRITE	9020473000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1605686000
+MAP	SERIALIZE_OUTPUT	3705257000
+MAP	MAP_MEM	239217888
+SPILL	SORT_AND_SPILL	36016862000
+SPILL	QUICK_SORT	33338729000
+SPILL	SORT_COUNT	1747709
+SPILL	COMBINE	0
+SPILL	WRITE	2678133000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	55402898
+SPILL	COMPRESS_BYTE_COUNT	55403006
+MERGE	TOTAL_MERGE	1376000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	64983223000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00010	0
+MAP	STARTUP_MEM	215326672
+MAP	SETUP	490000
+MAP	SETUP_MEM	215326672
+MAP	CLEANUP	96000
+MAP	CLEANUP_MEM	245504024
+MAP	TOTAL_RUN	29304100000
+MAP	READ	10216530000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	331236
+MAP	VALUE_BYTE_COUNT	268228165
+MAP	MAP	18865611000
+MAP	WRITE	9047026000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1540766000
+MAP	SERIALIZE_OUTPUT	3699381000
+MAP	MAP_MEM	245504024
+SPILL	SORT_AND_SPILL	35490685000
+SPILL	QUICK_SORT	32544341000
+SPILL	SORT_COUNT	1763603
+SPILL	COMBINE	0
+SPILL	WRITE	2946344000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	54935778
+SPILL	COMPRESS_BYTE_COUNT	54935886
+MERGE	TOTAL_MERGE	1597000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	65322566000
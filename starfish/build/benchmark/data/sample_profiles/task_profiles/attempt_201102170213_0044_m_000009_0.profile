@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00019	0
+MAP	STARTUP_MEM	215251824
+MAP	SETUP	446000
+MAP	SETUP_MEM	215251824
+MAP	CLEANUP	93000
+MAP	CLEANUP_MEM	234701480
+MAP	TOTAL_RUN	28245173000
+MAP	READ	10358096000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	475086
+MAP	VALUE_BYTE_COUNT	268193650
+MAP	MAP	17572615000
+MAP	WRITE	8327645000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1394705000
+MAP	SERIALIZE_OUTPUT	3439014000
+MAP	MAP_MEM	234701480
+SPILL	SORT_AND_SPILL	33377037000
+SPILL	QUICK_SORT	30642129000
+SPILL	SORT_COUNT	1639731
+SPILL	COMBINE	0
+SPILL	WRITE	2734908000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	53361985
+SPILL	COMPRESS_BYTE_COUNT	53362093
+MERGE	TOTAL_MERGE	1593000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	62116351000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00011	0
+MAP	STARTUP_MEM	216348208
+MAP	SETUP	507000
+MAP	SETUP_MEM	216348208
+MAP	CLEANUP	107000
+MAP	CLEANUP_MEM	235401480
+MAP	TOTAL_RUN	31821203000
+MAP	READ	11511425000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	323364
+MAP	VALUE_BYTE_COUNT	268282703
+MAP	MAP	20049285000
+MAP	WRITE	9726540000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1804764000
+MAP	SERIALIZE_OUTPUT	4074798000
+MAP	MAP_MEM	235401480
+SPILL	SORT_AND_SPILL	42101230000
+SPILL	QUICK_SORT	38950358000
+SPILL	SORT_COUNT	1821925
+SPILL	COMBINE	0
+SPILL	WRITE	3150872000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	57481542
+SPILL	COMPRESS_BYTE_COUNT	57481650
+MERGE	TOTAL_MERGE	1462000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	74801287000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00012	0
+MAP	STARTUP_MEM	215542680
+MAP	SETUP	498000
+MAP	SETUP_MEM	215542680
+MAP	CLEANUP	98000
+MAP	CLEANUP_MEM	222451040
+MAP	TOTAL_RUN	29755309000
+MAP	READ	10900011000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	382824
+MAP	VALUE_BYTE_COUNT	268251389
+MAP	MAP	18621861000
+MAP	WRITE	8692264000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1382852000
+MAP	SERIALIZE_OUTPUT	3601769000
+MAP	MAP_MEM	222451040
+SPILL	SORT_AND_SPILL	40511735000
+SPILL	QUICK_SORT	37225091000
+SPILL	SORT_COUNT	1691790
+SPILL	COMBINE	0
+SPILL	WRITE	3286644000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	53016256
+SPILL	COMPRESS_BYTE_COUNT	53016364
+MERGE	TOTAL_MERGE	1770000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	70989452000
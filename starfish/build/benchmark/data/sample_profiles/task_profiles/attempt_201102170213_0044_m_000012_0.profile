@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00018	0
+MAP	STARTUP_MEM	216093848
+MAP	SETUP	481000
+MAP	SETUP_MEM	216093848
+MAP	CLEANUP	96000
+MAP	CLEANUP_MEM	224068840
+MAP	TOTAL_RUN	30410552000
+MAP	READ	12068743000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	439050
+MAP	VALUE_BYTE_COUNT	268223908
+MAP	MAP	17882614000
+MAP	WRITE	8749952000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1458856000
+MAP	SERIALIZE_OUTPUT	3531614000
+MAP	MAP_MEM	224924480
+SPILL	SORT_AND_SPILL	35506547000
+SPILL	QUICK_SORT	32670978000
+SPILL	SORT_COUNT	1633838
+SPILL	COMBINE	0
+SPILL	WRITE	2835569000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	53048945
+SPILL	COMPRESS_BYTE_COUNT	53049053
+MERGE	TOTAL_MERGE	1684000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	66405252000
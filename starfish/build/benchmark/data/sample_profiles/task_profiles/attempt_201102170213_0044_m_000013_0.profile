@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00017	0
+MAP	STARTUP_MEM	215537408
+MAP	SETUP	541000
+MAP	SETUP_MEM	215537408
+MAP	CLEANUP	102000
+MAP	CLEANUP_MEM	219351944
+MAP	TOTAL_RUN	30230841000
+MAP	READ	10258329000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	498762
+MAP	VALUE_BYTE_COUNT	268183172
+MAP	MAP	19631136000
+MAP	WRITE	8968706000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1599371000
+MAP	SERIALIZE_OUTPUT	3562582000
+MAP	MAP_MEM	219351944
+SPILL	SORT_AND_SPILL	37044702444
+SPILL	QUICK_SORT	34085223444
+SPILL	SORT_COUNT	1673109
+SPILL	COMBINE	0
+SPILL	WRITE	2959479000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	54364361
+SPILL	COMPRESS_BYTE_COUNT	54364469
+MERGE	TOTAL_MERGE	1502000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	67901139444
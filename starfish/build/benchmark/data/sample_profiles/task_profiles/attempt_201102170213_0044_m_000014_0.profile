@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00014	0
+MAP	STARTUP_MEM	215294064
+MAP	SETUP	568000
+MAP	SETUP_MEM	215294064
+MAP	CLEANUP	117000
+MAP	CLEANUP_MEM	237059016
+MAP	TOTAL_RUN	34140750971
+MAP	READ	12592819000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	403494
+MAP	VALUE_BYTE_COUNT	268253507
+MAP	MAP	21230069971
+MAP	WRITE	10339416971
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1864733971
+MAP	SERIALIZE_OUTPUT	3860949000
+MAP	MAP_MEM	237059016
+SPILL	SORT_AND_SPILL	43750635000
+SPILL	QUICK_SORT	40318944000
+SPILL	SORT_COUNT	1641650
+SPILL	COMBINE	0
+SPILL	WRITE	3431691000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	51796448
+SPILL	COMPRESS_BYTE_COUNT	51796556
+MERGE	TOTAL_MERGE	1765000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	78716002971
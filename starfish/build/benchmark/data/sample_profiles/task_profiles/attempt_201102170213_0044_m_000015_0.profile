@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00021	0
+MAP	STARTUP_MEM	214420072
+MAP	SETUP	431000
+MAP	SETUP_MEM	214420072
+MAP	CLEANUP	96000
+MAP	CLEANUP_MEM	234634368
+MAP	TOTAL_RUN	28578520000
+MAP	READ	10301247000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	596442
+MAP	VALUE_BYTE_COUNT	268177690
+MAP	MAP	17919101000
+MAP	WRITE	8444668000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1453883000
+MAP	SERIALIZE_OUTPUT	3432337000
+MAP	MAP_MEM	235196528
+SPILL	SORT_AND_SPILL	33838101000
+SPILL	QUICK_SORT	31067876000
+SPILL	SORT_COUNT	1646918
+SPILL	COMBINE	0
+SPILL	WRITE	2770225000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	54064520
+SPILL	COMPRESS_BYTE_COUNT	54064628
+MERGE	TOTAL_MERGE	1455000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	62999758000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00016	0
+MAP	STARTUP_MEM	214687312
+MAP	SETUP	445000
+MAP	SETUP_MEM	214687312
+MAP	CLEANUP	98000
+MAP	CLEANUP_MEM	243155840
+MAP	TOTAL_RUN	30771666000
+MAP	READ	10832277000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	418062
+MAP	VALUE_BYTE_COUNT	268198809
+MAP	MAP	19661427000
+MAP	WRITE	9592783000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1718576000
+MAP	SERIALIZE_OUTPUT	3869162000
+MAP	MAP_MEM	243155840
+SPILL	SORT_AND_SPILL	37643292444
+SPILL	QUICK_SORT	34686952444
+SPILL	SORT_COUNT	1735733
+SPILL	COMBINE	0
+SPILL	WRITE	2956340000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	56406917
+SPILL	COMPRESS_BYTE_COUNT	56407025
+MERGE	TOTAL_MERGE	1505000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	68988690444
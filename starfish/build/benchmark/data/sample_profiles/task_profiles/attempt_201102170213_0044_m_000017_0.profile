@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00023	0
+MAP	STARTUP_MEM	215295816
+MAP	SETUP	562000
+MAP	SETUP_MEM	215295816
+MAP	CLEANUP	103000
+MAP	CLEANUP_MEM	217190016
+MAP	TOTAL_RUN	32832479770
+MAP	READ	11632846000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	590807
+MAP	VALUE_BYTE_COUNT	268221738
+MAP	MAP	20822267770
+MAP	WRITE	10283145000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1952105000
+MAP	SERIALIZE_OUTPUT	3808851000
+MAP	MAP_MEM	217190016
+SPILL	SORT_AND_SPILL	39554592112
+SPILL	QUICK_SORT	36590098112
+SPILL	SORT_COUNT	1600591
+SPILL	COMBINE	0
+SPILL	WRITE	2964494000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	52022646
+SPILL	COMPRESS_BYTE_COUNT	52022754
+MERGE	TOTAL_MERGE	1521000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	73072363882
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00015	0
+MAP	STARTUP_MEM	214410920
+MAP	SETUP	621000
+MAP	SETUP_MEM	214410920
+MAP	CLEANUP	111000
+MAP	CLEANUP_MEM	234698328
+MAP	TOTAL_RUN	33807040000
+MAP	READ	11924543000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	398634
+MAP	VALUE_BYTE_COUNT	268245409
+MAP	MAP	21579685000
+MAP	WRITE	10745170000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1923757000
+MAP	SERIALIZE_OUTPUT	3979541000
+MAP	MAP_MEM	234698328
+SPILL	SORT_AND_SPILL	40567469000
+SPILL	QUICK_SORT	36854383000
+SPILL	SORT_COUNT	1718595
+SPILL	COMBINE	0
+SPILL	WRITE	3713086000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	55186797
+SPILL	COMPRESS_BYTE_COUNT	55186905
+MERGE	TOTAL_MERGE	1595000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	75386998000
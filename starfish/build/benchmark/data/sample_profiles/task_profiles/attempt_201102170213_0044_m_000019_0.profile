@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00024	0
+MAP	STARTUP_MEM	214479024
+MAP	SETUP	433000
+MAP	SETUP_MEM	214479024
+MAP	CLEANUP	109000
+MAP	CLEANUP_MEM	240741888
+MAP	TOTAL_RUN	29645778000
+MAP	READ	11269447000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	626017
+MAP	VALUE_BYTE_COUNT	268128436
+MAP	MAP	18058866000
+MAP	WRITE	8626765000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1556041000
+MAP	SERIALIZE_OUTPUT	3499233000
+MAP	MAP_MEM	240741888
+SPILL	SORT_AND_SPILL	36400538000
+SPILL	QUICK_SORT	33411382000
+SPILL	SORT_COUNT	1633703
+SPILL	COMBINE	0
+SPILL	WRITE	2989156000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	53361871
+SPILL	COMPRESS_BYTE_COUNT	53361979
+MERGE	TOTAL_MERGE	127745000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	66804260000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00027	0
+MAP	STARTUP_MEM	214609872
+MAP	SETUP	431000
+MAP	SETUP_MEM	214609872
+MAP	CLEANUP	112000
+MAP	CLEANUP_MEM	215505192
+MAP	TOTAL_RUN	30781390000
+MAP	READ	11755707000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	629125
+MAP	VALUE_BYTE_COUNT	268125741
+MAP	MAP	18707107000
+MAP	WRITE	8894534000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1575219000
+MAP	SERIALIZE_OUTPUT	3691725000
+MAP	MAP_MEM	215505192
+SPILL	SORT_AND_SPILL	39479676000
+SPILL	QUICK_SORT	36357355000
+SPILL	SORT_COUNT	1604526
+SPILL	COMBINE	0
+SPILL	WRITE	3122321000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	52536852
+SPILL	COMPRESS_BYTE_COUNT	52536960
+MERGE	TOTAL_MERGE	1780000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	71128235000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00013	0
+MAP	STARTUP_MEM	215292224
+MAP	SETUP	567000
+MAP	SETUP_MEM	215292224
+MAP	CLEANUP	107000
+MAP	CLEANUP_MEM	234020128
+MAP	TOTAL_RUN	33225304000
+MAP	READ	10608236000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	525912
+MAP	VALUE_BYTE_COUNT	268157533
+MAP	MAP	22157704000
+MAP	WRITE	10969587000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1955822000
+MAP	SERIALIZE_OUTPUT	3977794000
+MAP	MAP_MEM	234020128
+SPILL	SORT_AND_SPILL	40199193000
+SPILL	QUICK_SORT	37176334000
+SPILL	SORT_COUNT	1633459
+SPILL	COMBINE	0
+SPILL	WRITE	3022859000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	51159605
+SPILL	COMPRESS_BYTE_COUNT	51159713
+MERGE	TOTAL_MERGE	1534000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	74776736000
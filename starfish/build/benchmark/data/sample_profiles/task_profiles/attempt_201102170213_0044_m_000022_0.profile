@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00028	0
+MAP	STARTUP_MEM	214450944
+MAP	SETUP	467000
+MAP	SETUP_MEM	214450944
+MAP	CLEANUP	93000
+MAP	CLEANUP_MEM	212801456
+MAP	TOTAL_RUN	29567537000
+MAP	READ	10938828000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	641333
+MAP	VALUE_BYTE_COUNT	268138116
+MAP	MAP	18213459000
+MAP	WRITE	8156126000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1497430000
+MAP	SERIALIZE_OUTPUT	3313554000
+MAP	MAP_MEM	213363616
+SPILL	SORT_AND_SPILL	38452661000
+SPILL	QUICK_SORT	35488640000
+SPILL	SORT_COUNT	1591630
+SPILL	COMBINE	0
+SPILL	WRITE	2964021000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	52115891
+SPILL	COMPRESS_BYTE_COUNT	52115999
+MERGE	TOTAL_MERGE	1565000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	68767782000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00026	0
+MAP	STARTUP_MEM	215250528
+MAP	SETUP	515000
+MAP	SETUP_MEM	215250528
+MAP	CLEANUP	138000
+MAP	CLEANUP_MEM	223504840
+MAP	TOTAL_RUN	31038855000
+MAP	READ	10868159000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	593194
+MAP	VALUE_BYTE_COUNT	268247151
+MAP	MAP	19788309000
+MAP	WRITE	8769562000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1572449000
+MAP	SERIALIZE_OUTPUT	3620929000
+MAP	MAP_MEM	223504840
+SPILL	SORT_AND_SPILL	43236944000
+SPILL	QUICK_SORT	39782153000
+SPILL	SORT_COUNT	1619501
+SPILL	COMBINE	0
+SPILL	WRITE	3454791000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	53263375
+SPILL	COMPRESS_BYTE_COUNT	53263483
+MERGE	TOTAL_MERGE	1489000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	74939041000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00022	0
+MAP	STARTUP_MEM	215272688
+MAP	SETUP	575000
+MAP	SETUP_MEM	215272688
+MAP	CLEANUP	99000
+MAP	CLEANUP_MEM	219714088
+MAP	TOTAL_RUN	31232577000
+MAP	READ	12363121000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	575925
+MAP	VALUE_BYTE_COUNT	268184924
+MAP	MAP	18490868000
+MAP	WRITE	8608118000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1435709000
+MAP	SERIALIZE_OUTPUT	3651074000
+MAP	MAP_MEM	219714088
+SPILL	SORT_AND_SPILL	42878656000
+SPILL	QUICK_SORT	39498112000
+SPILL	SORT_COUNT	1606506
+SPILL	COMBINE	0
+SPILL	WRITE	3380544000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	52416026
+SPILL	COMPRESS_BYTE_COUNT	52416134
+MERGE	TOTAL_MERGE	1437000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	74664716000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00025	0
+MAP	STARTUP_MEM	215500488
+MAP	SETUP	573000
+MAP	SETUP_MEM	215500488
+MAP	CLEANUP	112000
+MAP	CLEANUP_MEM	221407128
+MAP	TOTAL_RUN	29171956000
+MAP	READ	10238641000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	701225
+MAP	VALUE_BYTE_COUNT	268132169
+MAP	MAP	18581838000
+MAP	WRITE	8265160000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1550819000
+MAP	SERIALIZE_OUTPUT	3357844000
+MAP	MAP_MEM	221407128
+SPILL	SORT_AND_SPILL	38103891000
+SPILL	QUICK_SORT	35264804000
+SPILL	SORT_COUNT	1579641
+SPILL	COMBINE	0
+SPILL	WRITE	2839087000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	52634802
+SPILL	COMPRESS_BYTE_COUNT	52634910
+MERGE	TOTAL_MERGE	1754000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	67756791000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00020	0
+MAP	STARTUP_MEM	216078624
+MAP	SETUP	759000
+MAP	SETUP_MEM	216078624
+MAP	CLEANUP	95000
+MAP	CLEANUP_MEM	237728456
+MAP	TOTAL_RUN	30943130000
+MAP	READ	10548890000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	539721
+MAP	VALUE_BYTE_COUNT	268209189
+MAP	MAP	19824005000
+MAP	WRITE	8787170000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1518383000
+MAP	SERIALIZE_OUTPUT	3473260000
+MAP	MAP_MEM	237728456
+SPILL	SORT_AND_SPILL	37619889000
+SPILL	QUICK_SORT	33851452000
+SPILL	SORT_COUNT	1644243
+SPILL	COMBINE	0
+SPILL	WRITE	3768437000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	54575978
+SPILL	COMPRESS_BYTE_COUNT	54576086
+MERGE	TOTAL_MERGE	1411000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	69062718000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00033	0
+MAP	STARTUP_MEM	216156760
+MAP	SETUP	531000
+MAP	SETUP_MEM	216156760
+MAP	CLEANUP	94000
+MAP	CLEANUP_MEM	217896016
+MAP	TOTAL_RUN	30736186000
+MAP	READ	10862370000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	689507
+MAP	VALUE_BYTE_COUNT	268175291
+MAP	MAP	19465249000
+MAP	WRITE	8895552000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1571682000
+MAP	SERIALIZE_OUTPUT	3604798000
+MAP	MAP_MEM	217896016
+SPILL	SORT_AND_SPILL	39474473000
+SPILL	QUICK_SORT	36750714000
+SPILL	SORT_COUNT	1582864
+SPILL	COMBINE	0
+SPILL	WRITE	2723759000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	52217066
+SPILL	COMPRESS_BYTE_COUNT	52217174
+MERGE	TOTAL_MERGE	1458000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	70693320000
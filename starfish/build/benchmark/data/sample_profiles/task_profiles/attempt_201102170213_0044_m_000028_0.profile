@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00029	0
+MAP	STARTUP_MEM	214402640
+MAP	SETUP	426000
+MAP	SETUP_MEM	214402640
+MAP	CLEANUP	105000
+MAP	CLEANUP_MEM	246047472
+MAP	TOTAL_RUN	34022685000
+MAP	READ	12463322000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	647031
+MAP	VALUE_BYTE_COUNT	268154942
+MAP	MAP	21131066000
+MAP	WRITE	10150950000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1575352000
+MAP	SERIALIZE_OUTPUT	4094802000
+MAP	MAP_MEM	246047472
+SPILL	SORT_AND_SPILL	35468580000
+SPILL	QUICK_SORT	32697796000
+SPILL	SORT_COUNT	1593034
+SPILL	COMBINE	0
+SPILL	WRITE	2770784000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	52559278
+SPILL	COMPRESS_BYTE_COUNT	52559386
+MERGE	TOTAL_MERGE	1446000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	72263622000
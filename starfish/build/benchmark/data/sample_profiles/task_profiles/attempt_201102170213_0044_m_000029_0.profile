@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00035	0
+MAP	STARTUP_MEM	215293400
+MAP	SETUP	478000
+MAP	SETUP_MEM	215293400
+MAP	CLEANUP	95000
+MAP	CLEANUP_MEM	230867896
+MAP	TOTAL_RUN	29126862000
+MAP	READ	11043752000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	738045
+MAP	VALUE_BYTE_COUNT	268117157
+MAP	MAP	17682632000
+MAP	WRITE	8189761000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1434102000
+MAP	SERIALIZE_OUTPUT	3354040000
+MAP	MAP_MEM	230867896
+SPILL	SORT_AND_SPILL	34087931000
+SPILL	QUICK_SORT	31354841000
+SPILL	SORT_COUNT	1496738
+SPILL	COMBINE	0
+SPILL	WRITE	2733090000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	49335937
+SPILL	COMPRESS_BYTE_COUNT	49336045
+MERGE	TOTAL_MERGE	1486000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	63744080000
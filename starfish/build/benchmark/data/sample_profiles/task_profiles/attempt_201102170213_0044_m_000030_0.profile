@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00030	0
+MAP	STARTUP_MEM	215562464
+MAP	SETUP	495000
+MAP	SETUP_MEM	215562464
+MAP	CLEANUP	104000
+MAP	CLEANUP_MEM	233543680
+MAP	TOTAL_RUN	29129523000
+MAP	READ	11267885000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	653170
+MAP	VALUE_BYTE_COUNT	268155528
+MAP	MAP	17537171000
+MAP	WRITE	8062276000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1358417000
+MAP	SERIALIZE_OUTPUT	3389054000
+MAP	MAP_MEM	233543680
+SPILL	SORT_AND_SPILL	37325169000
+SPILL	QUICK_SORT	34596571000
+SPILL	SORT_COUNT	1560097
+SPILL	COMBINE	0
+SPILL	WRITE	2728598000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	51593059
+SPILL	COMPRESS_BYTE_COUNT	51593167
+MERGE	TOTAL_MERGE	1497000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	66971410000
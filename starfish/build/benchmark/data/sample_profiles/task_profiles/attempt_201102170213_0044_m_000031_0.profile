@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00036	0
+MAP	STARTUP_MEM	215269456
+MAP	SETUP	565000
+MAP	SETUP_MEM	215269456
+MAP	CLEANUP	101000
+MAP	CLEANUP_MEM	220014664
+MAP	TOTAL_RUN	31706672259
+MAP	READ	10725668000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	750617
+MAP	VALUE_BYTE_COUNT	268113836
+MAP	MAP	20444647259
+MAP	WRITE	9811074000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1745767000
+MAP	SERIALIZE_OUTPUT	3702261000
+MAP	MAP_MEM	220576824
+SPILL	SORT_AND_SPILL	35365201000
+SPILL	QUICK_SORT	32680836000
+SPILL	SORT_COUNT	1570667
+SPILL	COMBINE	0
+SPILL	WRITE	2684365000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	51697160
+SPILL	COMPRESS_BYTE_COUNT	51697268
+MERGE	TOTAL_MERGE	1726000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	67627844259
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00032	0
+MAP	STARTUP_MEM	216119520
+MAP	SETUP	515000
+MAP	SETUP_MEM	216119520
+MAP	CLEANUP	94000
+MAP	CLEANUP_MEM	214092536
+MAP	TOTAL_RUN	35679439000
+MAP	READ	11090094000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	654087
+MAP	VALUE_BYTE_COUNT	268154076
+MAP	MAP	24215623000
+MAP	WRITE	11013172000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1563748000
+MAP	SERIALIZE_OUTPUT	4181212000
+MAP	MAP_MEM	214092536
+SPILL	SORT_AND_SPILL	41162476000
+SPILL	QUICK_SORT	35679649000
+SPILL	SORT_COUNT	1562741
+SPILL	COMBINE	0
+SPILL	WRITE	5482827000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	51702830
+SPILL	COMPRESS_BYTE_COUNT	51702938
+MERGE	TOTAL_MERGE	1603000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	77407742000
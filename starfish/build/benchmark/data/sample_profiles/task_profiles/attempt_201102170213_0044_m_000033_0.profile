@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00031	0
+MAP	STARTUP_MEM	214438368
+MAP	SETUP	448000
+MAP	SETUP_MEM	214438368
+MAP	CLEANUP	100000
+MAP	CLEANUP_MEM	240098064
+MAP	TOTAL_RUN	32888060000
+MAP	READ	13150532000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	669928
+MAP	VALUE_BYTE_COUNT	268149373
+MAP	MAP	19105987000
+MAP	WRITE	9315294000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1412864000
+MAP	SERIALIZE_OUTPUT	3612632000
+MAP	MAP_MEM	240098064
+SPILL	SORT_AND_SPILL	32579024000
+SPILL	QUICK_SORT	29972937000
+SPILL	SORT_COUNT	1549051
+SPILL	COMBINE	0
+SPILL	WRITE	2606087000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	51307920
+SPILL	COMPRESS_BYTE_COUNT	51308028
+MERGE	TOTAL_MERGE	1563000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	66270458000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00037	0
+MAP	STARTUP_MEM	216080448
+MAP	SETUP	520000
+MAP	SETUP_MEM	216080448
+MAP	CLEANUP	103000
+MAP	CLEANUP_MEM	246831072
+MAP	TOTAL_RUN	32806668000
+MAP	READ	12428410000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	732221
+MAP	VALUE_BYTE_COUNT	268123571
+MAP	MAP	19966065000
+MAP	WRITE	9518169000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1440101000
+MAP	SERIALIZE_OUTPUT	3950396000
+MAP	MAP_MEM	247310688
+SPILL	SORT_AND_SPILL	35998409000
+SPILL	QUICK_SORT	29880804000
+SPILL	SORT_COUNT	1538967
+SPILL	COMBINE	0
+SPILL	WRITE	6117605000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	50538847
+SPILL	COMPRESS_BYTE_COUNT	50538955
+MERGE	TOTAL_MERGE	2203000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	69791662000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00034	0
+MAP	STARTUP_MEM	216107832
+MAP	SETUP	539000
+MAP	SETUP_MEM	216107832
+MAP	CLEANUP	100000
+MAP	CLEANUP_MEM	231551544
+MAP	TOTAL_RUN	29105349000
+MAP	READ	11039066000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	693812
+MAP	VALUE_BYTE_COUNT	268104714
+MAP	MAP	17596099000
+MAP	WRITE	8535674000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1411894000
+MAP	SERIALIZE_OUTPUT	3262567000
+MAP	MAP_MEM	231551544
+SPILL	SORT_AND_SPILL	31945616000
+SPILL	QUICK_SORT	29340413000
+SPILL	SORT_COUNT	1517342
+SPILL	COMBINE	0
+SPILL	WRITE	2605203000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	50209987
+SPILL	COMPRESS_BYTE_COUNT	50210095
+MERGE	TOTAL_MERGE	1485000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	61724534000
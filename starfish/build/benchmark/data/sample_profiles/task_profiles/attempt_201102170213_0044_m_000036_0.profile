@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00039	0
+MAP	STARTUP_MEM	214392232
+MAP	SETUP	430000
+MAP	SETUP_MEM	214392232
+MAP	CLEANUP	98000
+MAP	CLEANUP_MEM	245504304
+MAP	TOTAL_RUN	32519335000
+MAP	READ	10945843000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	711564
+MAP	VALUE_BYTE_COUNT	268124222
+MAP	MAP	21141577000
+MAP	WRITE	9432945000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1762417000
+MAP	SERIALIZE_OUTPUT	3752802000
+MAP	MAP_MEM	245504304
+SPILL	SORT_AND_SPILL	30619815000
+SPILL	QUICK_SORT	27782341000
+SPILL	SORT_COUNT	1469006
+SPILL	COMBINE	0
+SPILL	WRITE	2837474000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	48761753
+SPILL	COMPRESS_BYTE_COUNT	48761861
+MERGE	TOTAL_MERGE	2736000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	64079291000
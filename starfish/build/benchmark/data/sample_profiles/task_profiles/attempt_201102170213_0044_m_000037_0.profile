@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00038	0
+MAP	STARTUP_MEM	215292040
+MAP	SETUP	547000
+MAP	SETUP_MEM	215292040
+MAP	CLEANUP	82000
+MAP	CLEANUP_MEM	212275208
+MAP	TOTAL_RUN	32326523770
+MAP	READ	11125264000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	702303
+MAP	VALUE_BYTE_COUNT	268139162
+MAP	MAP	20739375770
+MAP	WRITE	9890514770
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1749991000
+MAP	SERIALIZE_OUTPUT	3594846770
+MAP	MAP_MEM	212275208
+SPILL	SORT_AND_SPILL	37559729112
+SPILL	QUICK_SORT	34752248112
+SPILL	SORT_COUNT	1493493
+SPILL	COMBINE	0
+SPILL	WRITE	2807481000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	49105715
+SPILL	COMPRESS_BYTE_COUNT	49105823
+MERGE	TOTAL_MERGE	1706000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	70848458882
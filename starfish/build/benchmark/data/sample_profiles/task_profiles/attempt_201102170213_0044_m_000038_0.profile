@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00044	0
+MAP	STARTUP_MEM	216084216
+MAP	SETUP	520000
+MAP	SETUP_MEM	216084216
+MAP	CLEANUP	100000
+MAP	CLEANUP_MEM	232415056
+MAP	TOTAL_RUN	33000356000
+MAP	READ	12139834000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	763574
+MAP	VALUE_BYTE_COUNT	268087459
+MAP	MAP	20381857000
+MAP	WRITE	9390274000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1427991000
+MAP	SERIALIZE_OUTPUT	4531193000
+MAP	MAP_MEM	232415056
+SPILL	SORT_AND_SPILL	34933813000
+SPILL	QUICK_SORT	31473496000
+SPILL	SORT_COUNT	1509409
+SPILL	COMBINE	0
+SPILL	WRITE	3460317000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	50133660
+SPILL	COMPRESS_BYTE_COUNT	50133768
+MERGE	TOTAL_MERGE	1585000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	68986397000
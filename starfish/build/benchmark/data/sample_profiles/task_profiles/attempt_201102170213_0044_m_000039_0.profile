@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00042	0
+MAP	STARTUP_MEM	214423720
+MAP	SETUP	487000
+MAP	SETUP_MEM	214423720
+MAP	CLEANUP	102000
+MAP	CLEANUP_MEM	219690536
+MAP	TOTAL_RUN	36107487000
+MAP	READ	13072321000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	769545
+MAP	VALUE_BYTE_COUNT	268104655
+MAP	MAP	22483214000
+MAP	WRITE	11032972000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1782156000
+MAP	SERIALIZE_OUTPUT	4399514000
+MAP	MAP_MEM	219690536
+SPILL	SORT_AND_SPILL	43083291194
+SPILL	QUICK_SORT	40522838194
+SPILL	SORT_COUNT	1499195
+SPILL	COMBINE	0
+SPILL	WRITE	2560453000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	49771621
+SPILL	COMPRESS_BYTE_COUNT	49771729
+MERGE	TOTAL_MERGE	1492000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	79855866194
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00043	0
+MAP	STARTUP_MEM	215252392
+MAP	SETUP	505000
+MAP	SETUP_MEM	215252392
+MAP	CLEANUP	101000
+MAP	CLEANUP_MEM	242340344
+MAP	TOTAL_RUN	30768959259
+MAP	READ	11173301000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	770098
+MAP	VALUE_BYTE_COUNT	268125707
+MAP	MAP	19044699259
+MAP	WRITE	9351631000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1717171000
+MAP	SERIALIZE_OUTPUT	3474464000
+MAP	MAP_MEM	242902504
+SPILL	SORT_AND_SPILL	35142824000
+SPILL	QUICK_SORT	32490041000
+SPILL	SORT_COUNT	1464843
+SPILL	COMBINE	0
+SPILL	WRITE	2652783000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	49045758
+SPILL	COMPRESS_BYTE_COUNT	49045866
+MERGE	TOTAL_MERGE	1755000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	66409937259
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00047	0
+MAP	STARTUP_MEM	216321856
+MAP	SETUP	576000
+MAP	SETUP_MEM	216321856
+MAP	CLEANUP	102000
+MAP	CLEANUP_MEM	224813328
+MAP	TOTAL_RUN	30237988000
+MAP	READ	11208318000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	722386
+MAP	VALUE_BYTE_COUNT	268128741
+MAP	MAP	18612248000
+MAP	WRITE	8706988000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1351873000
+MAP	SERIALIZE_OUTPUT	3764144000
+MAP	MAP_MEM	225668968
+SPILL	SORT_AND_SPILL	37728634000
+SPILL	QUICK_SORT	30556511000
+SPILL	SORT_COUNT	1466445
+SPILL	COMBINE	0
+SPILL	WRITE	7172123000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	49238404
+SPILL	COMPRESS_BYTE_COUNT	49238512
+MERGE	TOTAL_MERGE	1611000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	68709588000
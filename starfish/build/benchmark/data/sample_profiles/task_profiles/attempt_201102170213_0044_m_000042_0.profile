@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00048	0
+MAP	STARTUP_MEM	215307272
+MAP	SETUP	486000
+MAP	SETUP_MEM	215307272
+MAP	CLEANUP	99000
+MAP	CLEANUP_MEM	226489616
+MAP	TOTAL_RUN	34585489964
+MAP	READ	13152843964
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	750484
+MAP	VALUE_BYTE_COUNT	268151396
+MAP	MAP	20912664000
+MAP	WRITE	10998817000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	2021733000
+MAP	SERIALIZE_OUTPUT	3827321000
+MAP	MAP_MEM	227051776
+SPILL	SORT_AND_SPILL	34838879000
+SPILL	QUICK_SORT	32107687000
+SPILL	SORT_COUNT	1470118
+SPILL	COMBINE	0
+SPILL	WRITE	2731192000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	49471274
+SPILL	COMPRESS_BYTE_COUNT	49471382
+MERGE	TOTAL_MERGE	1466000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	70192348964
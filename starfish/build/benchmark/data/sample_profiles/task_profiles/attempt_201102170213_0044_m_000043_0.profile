@@ -0,0 +1,34 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00049	0
+MAP	STARTUP_MEM	216120568
+MAP	SETUP	496000
+MAP	SETUP_MEM	216120568
+MAP	CLEANUP	97000
+MAP	CLEANUP_MEM	228980704
+MAP	TOTAL_RUN	31741254000
+MAP	READ	11598006000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	776650
+MAP	VALUE_BYTE_COUNT	268063125
+MAP	MAP	19708099000
+MAP	WRITE	9739144000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1310815000
+MAP	SERIALIZE_OUTPUT	5215969000
+MAP	MAP_MEM	228980704
+SPILL	SORT_AND_SPILL	37726761000
+SPILL	QUICK_SORT	31616563000
+SPILL	SORT_COUNT	1439841
+SPILL	COMBINE	0
+SPILL	WRITE	6110198000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	48925482
+SPILL	COMPRESS_BYTE_COUNT	48925590
+MERGE	TOTAL_MERGE	1423000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
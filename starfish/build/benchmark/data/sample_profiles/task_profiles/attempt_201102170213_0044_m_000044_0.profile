@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00046	0
+MAP	STARTUP_MEM	216376792
+MAP	SETUP	492000
+MAP	SETUP_MEM	216376792
+MAP	CLEANUP	144000
+MAP	CLEANUP_MEM	231994752
+MAP	TOTAL_RUN	34258574000
+MAP	READ	11635507000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	780325
+MAP	VALUE_BYTE_COUNT	268098276
+MAP	MAP	21887836000
+MAP	WRITE	9677386000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1369291000
+MAP	SERIALIZE_OUTPUT	3389217000
+MAP	MAP_MEM	231994752
+SPILL	SORT_AND_SPILL	33566751000
+SPILL	QUICK_SORT	30523526000
+SPILL	SORT_COUNT	1441521
+SPILL	COMBINE	0
+SPILL	WRITE	3043225000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	48188976
+SPILL	COMPRESS_BYTE_COUNT	48189084
+MERGE	TOTAL_MERGE	1472000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	68591387000
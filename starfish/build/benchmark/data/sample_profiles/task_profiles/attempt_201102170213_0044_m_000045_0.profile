@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00050	0
+MAP	STARTUP_MEM	216119216
+MAP	SETUP	1597000
+MAP	SETUP_MEM	216119216
+MAP	CLEANUP	246000
+MAP	CLEANUP_MEM	227445016
+MAP	TOTAL_RUN	32242442000
+MAP	READ	12060716000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	739634
+MAP	VALUE_BYTE_COUNT	268119530
+MAP	MAP	19776994000
+MAP	WRITE	9908252000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	2293311000
+MAP	SERIALIZE_OUTPUT	4049752000
+MAP	MAP_MEM	227445016
+SPILL	SORT_AND_SPILL	32104620000
+SPILL	QUICK_SORT	28852947000
+SPILL	SORT_COUNT	1375425
+SPILL	COMBINE	0
+SPILL	WRITE	3251673000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	46825430
+SPILL	COMPRESS_BYTE_COUNT	46825538
+MERGE	TOTAL_MERGE	1427000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	67929789000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00041	0
+MAP	STARTUP_MEM	215242024
+MAP	SETUP	519000
+MAP	SETUP_MEM	215242024
+MAP	CLEANUP	101000
+MAP	CLEANUP_MEM	233116360
+MAP	TOTAL_RUN	33341609000
+MAP	READ	12030108000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	717878
+MAP	VALUE_BYTE_COUNT	268127570
+MAP	MAP	20825418000
+MAP	WRITE	9762062000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1676513000
+MAP	SERIALIZE_OUTPUT	3749351000
+MAP	MAP_MEM	233116360
+SPILL	SORT_AND_SPILL	39589531515
+SPILL	QUICK_SORT	35881610515
+SPILL	SORT_COUNT	1457523
+SPILL	COMBINE	0
+SPILL	WRITE	3707921000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	47514553
+SPILL	COMPRESS_BYTE_COUNT	47514661
+MERGE	TOTAL_MERGE	1879000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	73755980515
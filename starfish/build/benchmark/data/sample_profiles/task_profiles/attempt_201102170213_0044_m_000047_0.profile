@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00040	0
+MAP	STARTUP_MEM	214455128
+MAP	SETUP	452000
+MAP	SETUP_MEM	214455128
+MAP	CLEANUP	145000
+MAP	CLEANUP_MEM	221661936
+MAP	TOTAL_RUN	35099010000
+MAP	READ	14061595000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	699944
+MAP	VALUE_BYTE_COUNT	268137021
+MAP	MAP	20572265000
+MAP	WRITE	9551693000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1840937000
+MAP	SERIALIZE_OUTPUT	3485163000
+MAP	MAP_MEM	221661936
+SPILL	SORT_AND_SPILL	44870119515
+SPILL	QUICK_SORT	41256395515
+SPILL	SORT_COUNT	1410969
+SPILL	COMBINE	0
+SPILL	WRITE	3613724000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	46364644
+SPILL	COMPRESS_BYTE_COUNT	46364752
+MERGE	TOTAL_MERGE	1685000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	80446087515
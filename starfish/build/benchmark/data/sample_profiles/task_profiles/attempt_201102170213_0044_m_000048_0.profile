@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00051	0
+MAP	STARTUP_MEM	215581496
+MAP	SETUP	478000
+MAP	SETUP_MEM	215581496
+MAP	CLEANUP	111000
+MAP	CLEANUP_MEM	239351272
+MAP	TOTAL_RUN	29052243000
+MAP	READ	11179814000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	752472
+MAP	VALUE_BYTE_COUNT	268113051
+MAP	MAP	17483401000
+MAP	WRITE	7612841000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1189308000
+MAP	SERIALIZE_OUTPUT	3058411000
+MAP	MAP_MEM	239913440
+SPILL	SORT_AND_SPILL	36973797000
+SPILL	QUICK_SORT	34426172000
+SPILL	SORT_COUNT	1409928
+SPILL	COMBINE	0
+SPILL	WRITE	2547625000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	48677293
+SPILL	COMPRESS_BYTE_COUNT	48677401
+MERGE	TOTAL_MERGE	1709000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	66446099000
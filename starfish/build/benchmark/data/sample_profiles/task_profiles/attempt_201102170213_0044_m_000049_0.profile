@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00045	0
+MAP	STARTUP_MEM	215301096
+MAP	SETUP	508000
+MAP	SETUP_MEM	215301096
+MAP	CLEANUP	104000
+MAP	CLEANUP_MEM	211094832
+MAP	TOTAL_RUN	35031370964
+MAP	READ	13385459964
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	773304
+MAP	VALUE_BYTE_COUNT	268106809
+MAP	MAP	21034305000
+MAP	WRITE	10409839000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1760418000
+MAP	SERIALIZE_OUTPUT	4113355000
+MAP	MAP_MEM	212092632
+SPILL	SORT_AND_SPILL	33160771000
+SPILL	QUICK_SORT	30085119000
+SPILL	SORT_COUNT	1410546
+SPILL	COMBINE	0
+SPILL	WRITE	3075652000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	47017376
+SPILL	COMPRESS_BYTE_COUNT	47017484
+MERGE	TOTAL_MERGE	1636000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	68789280964
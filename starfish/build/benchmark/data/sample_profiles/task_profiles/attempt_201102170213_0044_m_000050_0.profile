@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00052	0
+MAP	STARTUP_MEM	215303824
+MAP	SETUP	545000
+MAP	SETUP_MEM	215303824
+MAP	CLEANUP	101000
+MAP	CLEANUP_MEM	231948472
+MAP	TOTAL_RUN	38522368284
+MAP	READ	14468085000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	720860
+MAP	VALUE_BYTE_COUNT	268128052
+MAP	MAP	23410353284
+MAP	WRITE	11319742284
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1988012000
+MAP	SERIALIZE_OUTPUT	4233623000
+MAP	MAP_MEM	231948472
+SPILL	SORT_AND_SPILL	42104128000
+SPILL	QUICK_SORT	38755752000
+SPILL	SORT_COUNT	1509278
+SPILL	COMBINE	0
+SPILL	WRITE	3348376000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	51853812
+SPILL	COMPRESS_BYTE_COUNT	51853920
+MERGE	TOTAL_MERGE	1771000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	81403247284
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00054	0
+MAP	STARTUP_MEM	214434800
+MAP	SETUP	472000
+MAP	SETUP_MEM	214434800
+MAP	CLEANUP	104000
+MAP	CLEANUP_MEM	233900640
+MAP	TOTAL_RUN	31089711000
+MAP	READ	11389056000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	736001
+MAP	VALUE_BYTE_COUNT	268140563
+MAP	MAP	19312185000
+MAP	WRITE	8708919000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1332818000
+MAP	SERIALIZE_OUTPUT	3344395000
+MAP	MAP_MEM	233900640
+SPILL	SORT_AND_SPILL	40191414000
+SPILL	QUICK_SORT	37637935000
+SPILL	SORT_COUNT	1479692
+SPILL	COMBINE	0
+SPILL	WRITE	2553479000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	50547013
+SPILL	COMPRESS_BYTE_COUNT	50547121
+MERGE	TOTAL_MERGE	1573000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	71710082000
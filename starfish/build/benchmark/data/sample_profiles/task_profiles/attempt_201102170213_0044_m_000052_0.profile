@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00053	0
+MAP	STARTUP_MEM	216152384
+MAP	SETUP	501000
+MAP	SETUP_MEM	216152384
+MAP	CLEANUP	101000
+MAP	CLEANUP_MEM	226971768
+MAP	TOTAL_RUN	31370909000
+MAP	READ	13028339000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	703612
+MAP	VALUE_BYTE_COUNT	268130308
+MAP	MAP	17769072000
+MAP	WRITE	7971235000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1271608000
+MAP	SERIALIZE_OUTPUT	3154050000
+MAP	MAP_MEM	227827408
+SPILL	SORT_AND_SPILL	33653206000
+SPILL	QUICK_SORT	31210816000
+SPILL	SORT_COUNT	1378760
+SPILL	COMBINE	0
+SPILL	WRITE	2442390000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	47196615
+SPILL	COMPRESS_BYTE_COUNT	47196723
+MERGE	TOTAL_MERGE	1739000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	65621511000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00055	0
+MAP	STARTUP_MEM	215293016
+MAP	SETUP	482000
+MAP	SETUP_MEM	215293016
+MAP	CLEANUP	96000
+MAP	CLEANUP_MEM	233137528
+MAP	TOTAL_RUN	35667287000
+MAP	READ	13320607000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	834029
+MAP	VALUE_BYTE_COUNT	268057504
+MAP	MAP	21799641000
+MAP	WRITE	10103538000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1744051000
+MAP	SERIALIZE_OUTPUT	3792020000
+MAP	MAP_MEM	233699688
+SPILL	SORT_AND_SPILL	40993710194
+SPILL	QUICK_SORT	37493543194
+SPILL	SORT_COUNT	1443704
+SPILL	COMBINE	0
+SPILL	WRITE	3500167000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	49562076
+SPILL	COMPRESS_BYTE_COUNT	49562184
+MERGE	TOTAL_MERGE	1870000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	77286677194
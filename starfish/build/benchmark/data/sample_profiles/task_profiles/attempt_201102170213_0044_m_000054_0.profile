@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00003	0
+MAP	STARTUP_MEM	214451208
+MAP	SETUP	460000
+MAP	SETUP_MEM	214451208
+MAP	CLEANUP	108000
+MAP	CLEANUP_MEM	210999784
+MAP	TOTAL_RUN	33109933000
+MAP	READ	12711807000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	150625
+MAP	VALUE_BYTE_COUNT	268343044
+MAP	MAP	20203488000
+MAP	WRITE	9500566000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1553293000
+MAP	SERIALIZE_OUTPUT	4007525000
+MAP	MAP_MEM	212291224
+SPILL	SORT_AND_SPILL	36591958000
+SPILL	QUICK_SORT	31566075000
+SPILL	SORT_COUNT	1621784
+SPILL	COMBINE	0
+SPILL	WRITE	5025883000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	51953775
+SPILL	COMPRESS_BYTE_COUNT	51953883
+MERGE	TOTAL_MERGE	1967000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	70344537000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00058	0
+MAP	STARTUP_MEM	215292800
+MAP	SETUP	529000
+MAP	SETUP_MEM	215292800
+MAP	CLEANUP	99000
+MAP	CLEANUP_MEM	234353224
+MAP	TOTAL_RUN	37941494000
+MAP	READ	13282446000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	806470
+MAP	VALUE_BYTE_COUNT	268085308
+MAP	MAP	23859477000
+MAP	WRITE	9910908000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1570274000
+MAP	SERIALIZE_OUTPUT	4371674000
+MAP	MAP_MEM	234353224
+SPILL	SORT_AND_SPILL	30723415735
+SPILL	QUICK_SORT	28161978000
+SPILL	SORT_COUNT	1484177
+SPILL	COMBINE	0
+SPILL	WRITE	2561437735
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	50177219
+SPILL	COMPRESS_BYTE_COUNT	50177327
+MERGE	TOTAL_MERGE	1483000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	69357518735
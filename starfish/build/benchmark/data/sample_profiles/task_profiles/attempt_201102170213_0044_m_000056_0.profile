@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00060	0
+MAP	STARTUP_MEM	216316288
+MAP	SETUP	500000
+MAP	SETUP_MEM	216316288
+MAP	CLEANUP	112000
+MAP	CLEANUP_MEM	213768680
+MAP	TOTAL_RUN	31259497000
+MAP	READ	12796904000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	741860
+MAP	VALUE_BYTE_COUNT	268108668
+MAP	MAP	18063681000
+MAP	WRITE	7683273000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1464767000
+MAP	SERIALIZE_OUTPUT	3044282000
+MAP	MAP_MEM	213768680
+SPILL	SORT_AND_SPILL	33099970000
+SPILL	QUICK_SORT	30857267000
+SPILL	SORT_COUNT	1269725
+SPILL	COMBINE	0
+SPILL	WRITE	2242703000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	44099856
+SPILL	COMPRESS_BYTE_COUNT	44099964
+MERGE	TOTAL_MERGE	1534000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	64882970000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00062	0
+MAP	STARTUP_MEM	215272136
+MAP	SETUP	536000
+MAP	SETUP_MEM	215272136
+MAP	CLEANUP	102000
+MAP	CLEANUP_MEM	224213168
+MAP	TOTAL_RUN	28374690000
+MAP	READ	11151112000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	712411
+MAP	VALUE_BYTE_COUNT	268079054
+MAP	MAP	16829644000
+MAP	WRITE	7028076000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1053114000
+MAP	SERIALIZE_OUTPUT	2886039000
+MAP	MAP_MEM	224775328
+SPILL	SORT_AND_SPILL	32521227000
+SPILL	QUICK_SORT	30231180000
+SPILL	SORT_COUNT	1277782
+SPILL	COMBINE	0
+SPILL	WRITE	2290047000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	44176193
+SPILL	COMPRESS_BYTE_COUNT	44176301
+MERGE	TOTAL_MERGE	1821000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	61437840000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00071	0
+MAP	STARTUP_MEM	214435704
+MAP	SETUP	472000
+MAP	SETUP_MEM	214435704
+MAP	CLEANUP	100000
+MAP	CLEANUP_MEM	213199528
+MAP	TOTAL_RUN	31594740284
+MAP	READ	12457593000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	724038
+MAP	VALUE_BYTE_COUNT	268125305
+MAP	MAP	18607439284
+MAP	WRITE	8616800000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1419418000
+MAP	SERIALIZE_OUTPUT	3089345000
+MAP	MAP_MEM	213199528
+SPILL	SORT_AND_SPILL	38038810000
+SPILL	QUICK_SORT	33762705000
+SPILL	SORT_COUNT	1282786
+SPILL	COMBINE	0
+SPILL	WRITE	4276105000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	44744285
+SPILL	COMPRESS_BYTE_COUNT	44744393
+MERGE	TOTAL_MERGE	2251000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	70696257284
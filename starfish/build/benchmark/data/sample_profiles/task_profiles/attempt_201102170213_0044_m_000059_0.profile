@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00061	0
+MAP	STARTUP_MEM	215273136
+MAP	SETUP	453000
+MAP	SETUP_MEM	215273136
+MAP	CLEANUP	100000
+MAP	CLEANUP_MEM	232094376
+MAP	TOTAL_RUN	31573252000
+MAP	READ	11596905000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	782138
+MAP	VALUE_BYTE_COUNT	268183222
+MAP	MAP	19533709000
+MAP	WRITE	9903851000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	2824139000
+MAP	SERIALIZE_OUTPUT	3724271000
+MAP	MAP_MEM	232094376
+SPILL	SORT_AND_SPILL	28131147000
+SPILL	QUICK_SORT	25897239000
+SPILL	SORT_COUNT	1290739
+SPILL	COMBINE	0
+SPILL	WRITE	2233908000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	45271785
+SPILL	COMPRESS_BYTE_COUNT	45271893
+MERGE	TOTAL_MERGE	1433000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	60328344000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00073	0
+MAP	STARTUP_MEM	216150640
+MAP	SETUP	474000
+MAP	SETUP_MEM	216150640
+MAP	CLEANUP	100000
+MAP	CLEANUP_MEM	246650392
+MAP	TOTAL_RUN	32068159000
+MAP	READ	12656800000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	763112
+MAP	VALUE_BYTE_COUNT	267936156
+MAP	MAP	18978503000
+MAP	WRITE	8489841000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1281308000
+MAP	SERIALIZE_OUTPUT	3075507000
+MAP	MAP_MEM	246650392
+SPILL	SORT_AND_SPILL	32603983735
+SPILL	QUICK_SORT	28092916735
+SPILL	SORT_COUNT	1401579
+SPILL	COMBINE	0
+SPILL	WRITE	4511067000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	48807589
+SPILL	COMPRESS_BYTE_COUNT	48807697
+MERGE	TOTAL_MERGE	1556000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	65674924735
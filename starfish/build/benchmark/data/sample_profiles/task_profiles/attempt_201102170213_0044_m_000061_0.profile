@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00072	0
+MAP	STARTUP_MEM	216080392
+MAP	SETUP	546000
+MAP	SETUP_MEM	216080392
+MAP	CLEANUP	110000
+MAP	CLEANUP_MEM	216924592
+MAP	TOTAL_RUN	32370319000
+MAP	READ	12433253000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	731899
+MAP	VALUE_BYTE_COUNT	268292915
+MAP	MAP	19555265000
+MAP	WRITE	8384796000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1291643000
+MAP	SERIALIZE_OUTPUT	3180182000
+MAP	MAP_MEM	216924592
+SPILL	SORT_AND_SPILL	33886036000
+SPILL	QUICK_SORT	31522923000
+SPILL	SORT_COUNT	1305786
+SPILL	COMBINE	0
+SPILL	WRITE	2363113000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	45111739
+SPILL	COMPRESS_BYTE_COUNT	45111847
+MERGE	TOTAL_MERGE	1767000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	66898104000
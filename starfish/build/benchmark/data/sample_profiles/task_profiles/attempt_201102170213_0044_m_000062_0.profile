@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00066	0
+MAP	STARTUP_MEM	214466272
+MAP	SETUP	1038000
+MAP	SETUP_MEM	214466272
+MAP	CLEANUP	105000
+MAP	CLEANUP_MEM	226422168
+MAP	TOTAL_RUN	27566849000
+MAP	READ	10531648000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	775425
+MAP	VALUE_BYTE_COUNT	268100749
+MAP	MAP	16610959000
+MAP	WRITE	6828528000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1152189000
+MAP	SERIALIZE_OUTPUT	2781102000
+MAP	MAP_MEM	226422168
+SPILL	SORT_AND_SPILL	29339127000
+SPILL	QUICK_SORT	26132159000
+SPILL	SORT_COUNT	1279920
+SPILL	COMBINE	0
+SPILL	WRITE	3206968000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	45070748
+SPILL	COMPRESS_BYTE_COUNT	45070856
+MERGE	TOTAL_MERGE	1439000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	58962349000
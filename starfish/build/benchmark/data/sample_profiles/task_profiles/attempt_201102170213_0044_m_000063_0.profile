@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00088	0
+MAP	STARTUP_MEM	216329800
+MAP	SETUP	616000
+MAP	SETUP_MEM	216329800
+MAP	CLEANUP	108000
+MAP	CLEANUP_MEM	244967032
+MAP	TOTAL_RUN	31163873000
+MAP	READ	11036872000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	717290
+MAP	VALUE_BYTE_COUNT	268129089
+MAP	MAP	17635270000
+MAP	WRITE	7576586000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1513437000
+MAP	SERIALIZE_OUTPUT	3176350000
+MAP	MAP_MEM	244967032
+SPILL	SORT_AND_SPILL	28627542000
+SPILL	QUICK_SORT	26287609000
+SPILL	SORT_COUNT	1252205
+SPILL	COMBINE	0
+SPILL	WRITE	2339933000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	44377994
+SPILL	COMPRESS_BYTE_COUNT	44378102
+MERGE	TOTAL_MERGE	1680000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	60355591000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00064	0
+MAP	STARTUP_MEM	216101352
+MAP	SETUP	483000
+MAP	SETUP_MEM	216101352
+MAP	CLEANUP	97000
+MAP	CLEANUP_MEM	244765224
+MAP	TOTAL_RUN	33542337000
+MAP	READ	10707454000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	664482
+MAP	VALUE_BYTE_COUNT	268150342
+MAP	MAP	22468403000
+MAP	WRITE	9933495000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1589541000
+MAP	SERIALIZE_OUTPUT	4919265000
+MAP	MAP_MEM	244765224
+SPILL	SORT_AND_SPILL	33910935000
+SPILL	QUICK_SORT	31323030000
+SPILL	SORT_COUNT	1499849
+SPILL	COMBINE	0
+SPILL	WRITE	2587905000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	51698525
+SPILL	COMPRESS_BYTE_COUNT	51698633
+MERGE	TOTAL_MERGE	1416000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	67930878000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00100	0
+MAP	STARTUP_MEM	214382272
+MAP	SETUP	458000
+MAP	SETUP_MEM	216060000
+MAP	CLEANUP	98000
+MAP	CLEANUP_MEM	232766816
+MAP	TOTAL_RUN	31319747000
+MAP	READ	12425557000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	721427
+MAP	VALUE_BYTE_COUNT	268188441
+MAP	MAP	18269380000
+MAP	WRITE	8596223000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1181349000
+MAP	SERIALIZE_OUTPUT	3908164000
+MAP	MAP_MEM	232766816
+SPILL	SORT_AND_SPILL	32692699000
+SPILL	QUICK_SORT	30274696000
+SPILL	SORT_COUNT	1368617
+SPILL	COMBINE	0
+SPILL	WRITE	2418003000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	49830680
+SPILL	COMPRESS_BYTE_COUNT	49830788
+MERGE	TOTAL_MERGE	1430000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	64623950000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00080	0
+MAP	STARTUP_MEM	214431864
+MAP	SETUP	431000
+MAP	SETUP_MEM	214431864
+MAP	CLEANUP	152000
+MAP	CLEANUP_MEM	216479824
+MAP	TOTAL_RUN	32318107000
+MAP	READ	12594046000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	723499
+MAP	VALUE_BYTE_COUNT	268135391
+MAP	MAP	19335771000
+MAP	WRITE	9083057000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1341240000
+MAP	SERIALIZE_OUTPUT	3491079000
+MAP	MAP_MEM	216479824
+SPILL	SORT_AND_SPILL	33447486000
+SPILL	QUICK_SORT	31046983000
+SPILL	SORT_COUNT	1202528
+SPILL	COMBINE	0
+SPILL	WRITE	2400503000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	42203738
+SPILL	COMPRESS_BYTE_COUNT	42203846
+MERGE	TOTAL_MERGE	1520000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	66884425000
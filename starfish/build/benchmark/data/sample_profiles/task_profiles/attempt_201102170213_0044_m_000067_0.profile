@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00099	0
+MAP	STARTUP_MEM	215293424
+MAP	SETUP	500000
+MAP	SETUP_MEM	215293424
+MAP	CLEANUP	102000
+MAP	CLEANUP_MEM	237588280
+MAP	TOTAL_RUN	30443845763
+MAP	READ	11211273000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	747726
+MAP	VALUE_BYTE_COUNT	268111998
+MAP	MAP	18713580763
+MAP	WRITE	8791078763
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1502414000
+MAP	SERIALIZE_OUTPUT	3125493763
+MAP	MAP_MEM	238150440
+SPILL	SORT_AND_SPILL	29213470000
+SPILL	QUICK_SORT	26776745000
+SPILL	SORT_COUNT	1231990
+SPILL	COMBINE	0
+SPILL	WRITE	2436725000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	43820468
+SPILL	COMPRESS_BYTE_COUNT	43820576
+MERGE	TOTAL_MERGE	1501000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	60130483763
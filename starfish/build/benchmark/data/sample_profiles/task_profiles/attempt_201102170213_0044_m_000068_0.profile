@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00075	0
+MAP	STARTUP_MEM	216060040
+MAP	SETUP	1136000
+MAP	SETUP_MEM	216060040
+MAP	CLEANUP	95000
+MAP	CLEANUP_MEM	218924264
+MAP	TOTAL_RUN	28865148000
+MAP	READ	11712710000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	775285
+MAP	VALUE_BYTE_COUNT	268028286
+MAP	MAP	16731922000
+MAP	WRITE	7737282000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1179351000
+MAP	SERIALIZE_OUTPUT	3304987000
+MAP	MAP_MEM	218924264
+SPILL	SORT_AND_SPILL	26982143000
+SPILL	QUICK_SORT	24703173000
+SPILL	SORT_COUNT	1302002
+SPILL	COMBINE	0
+SPILL	WRITE	2278970000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	45341559
+SPILL	COMPRESS_BYTE_COUNT	45341667
+MERGE	TOTAL_MERGE	1585000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	56301700000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00093	0
+MAP	STARTUP_MEM	215274872
+MAP	SETUP	506000
+MAP	SETUP_MEM	215274872
+MAP	CLEANUP	94000
+MAP	CLEANUP_MEM	216527664
+MAP	TOTAL_RUN	30058019000
+MAP	READ	11737539000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	729771
+MAP	VALUE_BYTE_COUNT	268053860
+MAP	MAP	17931723000
+MAP	WRITE	7474465000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1453401000
+MAP	SERIALIZE_OUTPUT	3295990000
+MAP	MAP_MEM	217089824
+SPILL	SORT_AND_SPILL	25307516000
+SPILL	QUICK_SORT	23168634000
+SPILL	SORT_COUNT	1218945
+SPILL	COMBINE	0
+SPILL	WRITE	2138882000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	42643256
+SPILL	COMPRESS_BYTE_COUNT	42643364
+MERGE	TOTAL_MERGE	1610000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	57292934000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00094	0
+MAP	STARTUP_MEM	215253672
+MAP	SETUP	462000
+MAP	SETUP_MEM	215253672
+MAP	CLEANUP	96000
+MAP	CLEANUP_MEM	233602488
+MAP	TOTAL_RUN	28524316000
+MAP	READ	11282150000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	780038
+MAP	VALUE_BYTE_COUNT	268080054
+MAP	MAP	16806576000
+MAP	WRITE	6957990000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1078990000
+MAP	SERIALIZE_OUTPUT	2742730000
+MAP	MAP_MEM	233602488
+SPILL	SORT_AND_SPILL	27807138000
+SPILL	QUICK_SORT	25416969000
+SPILL	SORT_COUNT	1221119
+SPILL	COMBINE	0
+SPILL	WRITE	2390169000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	42790812
+SPILL	COMPRESS_BYTE_COUNT	42790920
+MERGE	TOTAL_MERGE	1657000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	56812343000
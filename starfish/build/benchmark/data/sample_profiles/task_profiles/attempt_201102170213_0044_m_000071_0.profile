@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00078	0
+MAP	STARTUP_MEM	216071360
+MAP	SETUP	472000
+MAP	SETUP_MEM	216071360
+MAP	CLEANUP	96000
+MAP	CLEANUP_MEM	213292752
+MAP	TOTAL_RUN	33423726000
+MAP	READ	13644949000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	793233
+MAP	VALUE_BYTE_COUNT	268089243
+MAP	MAP	19374153000
+MAP	WRITE	9821073000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1155975000
+MAP	SERIALIZE_OUTPUT	3069968000
+MAP	MAP_MEM	214148392
+SPILL	SORT_AND_SPILL	27223468000
+SPILL	QUICK_SORT	25003229000
+SPILL	SORT_COUNT	1268019
+SPILL	COMBINE	0
+SPILL	WRITE	2220239000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	43967433
+SPILL	COMPRESS_BYTE_COUNT	43967541
+MERGE	TOTAL_MERGE	1445000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	61098065000
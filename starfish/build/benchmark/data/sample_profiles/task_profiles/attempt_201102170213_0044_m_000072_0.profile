@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00083	0
+MAP	STARTUP_MEM	215270616
+MAP	SETUP	490000
+MAP	SETUP_MEM	215270616
+MAP	CLEANUP	116000
+MAP	CLEANUP_MEM	231372552
+MAP	TOTAL_RUN	28560810000
+MAP	READ	11182908000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	726726
+MAP	VALUE_BYTE_COUNT	268151198
+MAP	MAP	16998566000
+MAP	WRITE	6487957000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1057738000
+MAP	SERIALIZE_OUTPUT	2692671000
+MAP	MAP_MEM	231934712
+SPILL	SORT_AND_SPILL	30241027000
+SPILL	QUICK_SORT	28044353000
+SPILL	SORT_COUNT	1228507
+SPILL	COMBINE	0
+SPILL	WRITE	2196674000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	43202092
+SPILL	COMPRESS_BYTE_COUNT	43202200
+MERGE	TOTAL_MERGE	1733000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	59348695000
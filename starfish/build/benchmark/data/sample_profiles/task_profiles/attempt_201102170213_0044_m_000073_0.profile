@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00082	0
+MAP	STARTUP_MEM	216096640
+MAP	SETUP	465000
+MAP	SETUP_MEM	216096640
+MAP	CLEANUP	97000
+MAP	CLEANUP_MEM	233359904
+MAP	TOTAL_RUN	30431671000
+MAP	READ	11884503000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	701470
+MAP	VALUE_BYTE_COUNT	268137518
+MAP	MAP	18098212000
+MAP	WRITE	8786519000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1523824000
+MAP	SERIALIZE_OUTPUT	3734411000
+MAP	MAP_MEM	233359904
+SPILL	SORT_AND_SPILL	26887927000
+SPILL	QUICK_SORT	24479516000
+SPILL	SORT_COUNT	1268013
+SPILL	COMBINE	0
+SPILL	WRITE	2408411000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	44503749
+SPILL	COMPRESS_BYTE_COUNT	44503857
+MERGE	TOTAL_MERGE	1440000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	57829322000
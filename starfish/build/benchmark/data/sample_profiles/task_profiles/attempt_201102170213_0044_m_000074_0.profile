@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00089	0
+MAP	STARTUP_MEM	215500752
+MAP	SETUP	600000
+MAP	SETUP_MEM	215500752
+MAP	CLEANUP	96000
+MAP	CLEANUP_MEM	226125112
+MAP	TOTAL_RUN	29687700000
+MAP	READ	10441019000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	737996
+MAP	VALUE_BYTE_COUNT	268212474
+MAP	MAP	18836740000
+MAP	WRITE	9314994000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1124738000
+MAP	SERIALIZE_OUTPUT	3181155000
+MAP	MAP_MEM	226125112
+SPILL	SORT_AND_SPILL	31196529000
+SPILL	QUICK_SORT	28335596000
+SPILL	SORT_COUNT	1221152
+SPILL	COMBINE	0
+SPILL	WRITE	2860933000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	43236924
+SPILL	COMPRESS_BYTE_COUNT	43237032
+MERGE	TOTAL_MERGE	1464000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	61400350000
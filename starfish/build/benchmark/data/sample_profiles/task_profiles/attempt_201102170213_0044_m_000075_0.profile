@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00057	0
+MAP	STARTUP_MEM	214669920
+MAP	SETUP	520000
+MAP	SETUP_MEM	216347648
+MAP	CLEANUP	106000
+MAP	CLEANUP_MEM	233317544
+MAP	TOTAL_RUN	30677460000
+MAP	READ	10768612000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	821947
+MAP	VALUE_BYTE_COUNT	268030563
+MAP	MAP	19303181000
+MAP	WRITE	8489328000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1558560000
+MAP	SERIALIZE_OUTPUT	3483813000
+MAP	MAP_MEM	234173184
+SPILL	SORT_AND_SPILL	42896655000
+SPILL	QUICK_SORT	35856555000
+SPILL	SORT_COUNT	1473297
+SPILL	COMBINE	0
+SPILL	WRITE	7040100000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	48956613
+SPILL	COMPRESS_BYTE_COUNT	48956721
+MERGE	TOTAL_MERGE	1679000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	74084460000
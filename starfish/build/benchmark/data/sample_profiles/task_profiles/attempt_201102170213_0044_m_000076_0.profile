@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00068	0
+MAP	STARTUP_MEM	216332368
+MAP	SETUP	522000
+MAP	SETUP_MEM	216332368
+MAP	CLEANUP	108000
+MAP	CLEANUP_MEM	223143936
+MAP	TOTAL_RUN	28097790000
+MAP	READ	10989222000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	788774
+MAP	VALUE_BYTE_COUNT	268067637
+MAP	MAP	16693118000
+MAP	WRITE	6955390000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1135784000
+MAP	SERIALIZE_OUTPUT	2825206000
+MAP	MAP_MEM	223143936
+SPILL	SORT_AND_SPILL	28560463000
+SPILL	QUICK_SORT	26338615000
+SPILL	SORT_COUNT	1249700
+SPILL	COMBINE	0
+SPILL	WRITE	2221848000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	43833602
+SPILL	COMPRESS_BYTE_COUNT	43833710
+MERGE	TOTAL_MERGE	1495000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	57196638000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00077	0
+MAP	STARTUP_MEM	215294672
+MAP	SETUP	498000
+MAP	SETUP_MEM	215294672
+MAP	CLEANUP	104000
+MAP	CLEANUP_MEM	234947480
+MAP	TOTAL_RUN	31035373763
+MAP	READ	11872121763
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	758534
+MAP	VALUE_BYTE_COUNT	268096800
+MAP	MAP	18550563000
+MAP	WRITE	8770899000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1625774000
+MAP	SERIALIZE_OUTPUT	3333537000
+MAP	MAP_MEM	234947480
+SPILL	SORT_AND_SPILL	31682870000
+SPILL	QUICK_SORT	29054934000
+SPILL	SORT_COUNT	1355949
+SPILL	COMBINE	0
+SPILL	WRITE	2627936000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	47061379
+SPILL	COMPRESS_BYTE_COUNT	47061487
+MERGE	TOTAL_MERGE	1611000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	63404509763
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00087	0
+MAP	STARTUP_MEM	214459160
+MAP	SETUP	424000
+MAP	SETUP_MEM	214459160
+MAP	CLEANUP	106000
+MAP	CLEANUP_MEM	231672744
+MAP	TOTAL_RUN	29549588000
+MAP	READ	11333715000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	784049
+MAP	VALUE_BYTE_COUNT	267707113
+MAP	MAP	17734840000
+MAP	WRITE	7728219000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1291636000
+MAP	SERIALIZE_OUTPUT	2891608000
+MAP	MAP_MEM	231672744
+SPILL	SORT_AND_SPILL	30835714000
+SPILL	QUICK_SORT	28490209000
+SPILL	SORT_COUNT	1297428
+SPILL	COMBINE	0
+SPILL	WRITE	2345505000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	45431321
+SPILL	COMPRESS_BYTE_COUNT	45431429
+MERGE	TOTAL_MERGE	121129000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	61077841000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00098	0
+MAP	STARTUP_MEM	215273408
+MAP	SETUP	536000
+MAP	SETUP_MEM	215273408
+MAP	CLEANUP	106000
+MAP	CLEANUP_MEM	233918984
+MAP	TOTAL_RUN	30609460000
+MAP	READ	11465671000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	717045
+MAP	VALUE_BYTE_COUNT	268129812
+MAP	MAP	18507364000
+MAP	WRITE	7740819000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1270331000
+MAP	SERIALIZE_OUTPUT	2987372000
+MAP	MAP_MEM	233918984
+SPILL	SORT_AND_SPILL	30486072152
+SPILL	QUICK_SORT	28053955152
+SPILL	SORT_COUNT	1164511
+SPILL	COMBINE	0
+SPILL	WRITE	2432117000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	41195338
+SPILL	COMPRESS_BYTE_COUNT	41195446
+MERGE	TOTAL_MERGE	1864000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	61726534152
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00096	0
+MAP	STARTUP_MEM	216077296
+MAP	SETUP	509000
+MAP	SETUP_MEM	216077296
+MAP	CLEANUP	106000
+MAP	CLEANUP_MEM	234983688
+MAP	TOTAL_RUN	27132053000
+MAP	READ	10949130000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	722211
+MAP	VALUE_BYTE_COUNT	268116378
+MAP	MAP	15808692000
+MAP	WRITE	6274999000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1057572000
+MAP	SERIALIZE_OUTPUT	2592769000
+MAP	MAP_MEM	235839328
+SPILL	SORT_AND_SPILL	31480607000
+SPILL	QUICK_SORT	27027353000
+SPILL	SORT_COUNT	1145764
+SPILL	COMBINE	0
+SPILL	WRITE	4453254000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	40738170
+SPILL	COMPRESS_BYTE_COUNT	40738278
+MERGE	TOTAL_MERGE	1572000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	59538552000
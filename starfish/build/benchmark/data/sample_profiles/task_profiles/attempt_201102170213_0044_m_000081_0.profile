@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00084	0
+MAP	STARTUP_MEM	214668528
+MAP	SETUP	480000
+MAP	SETUP_MEM	214668528
+MAP	CLEANUP	105000
+MAP	CLEANUP_MEM	239811640
+MAP	TOTAL_RUN	31930391000
+MAP	READ	11321352000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	725991
+MAP	VALUE_BYTE_COUNT	268093552
+MAP	MAP	20196591000
+MAP	WRITE	9652191000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1200234000
+MAP	SERIALIZE_OUTPUT	4339002000
+MAP	MAP_MEM	239811640
+SPILL	SORT_AND_SPILL	34098189000
+SPILL	QUICK_SORT	29076298000
+SPILL	SORT_COUNT	1330856
+SPILL	COMBINE	0
+SPILL	WRITE	5021891000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	46083955
+SPILL	COMPRESS_BYTE_COUNT	46084063
+MERGE	TOTAL_MERGE	1502000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	66690737000
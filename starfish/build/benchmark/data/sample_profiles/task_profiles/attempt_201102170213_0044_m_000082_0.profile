@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00063	0
+MAP	STARTUP_MEM	215266704
+MAP	SETUP	478000
+MAP	SETUP_MEM	215266704
+MAP	CLEANUP	91000
+MAP	CLEANUP_MEM	240161560
+MAP	TOTAL_RUN	41847528000
+MAP	READ	17075485000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	797426
+MAP	VALUE_BYTE_COUNT	268059466
+MAP	MAP	24357343000
+MAP	WRITE	11187649000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1406241000
+MAP	SERIALIZE_OUTPUT	3846474000
+MAP	MAP_MEM	240161560
+SPILL	SORT_AND_SPILL	38649795000
+SPILL	QUICK_SORT	34568471000
+SPILL	SORT_COUNT	1256758
+SPILL	COMBINE	0
+SPILL	WRITE	4081324000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	44565442
+SPILL	COMPRESS_BYTE_COUNT	44565550
+MERGE	TOTAL_MERGE	1487000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	81780922000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00095	0
+MAP	STARTUP_MEM	215540816
+MAP	SETUP	560000
+MAP	SETUP_MEM	215540816
+MAP	CLEANUP	149000
+MAP	CLEANUP_MEM	246849792
+MAP	TOTAL_RUN	30098384000
+MAP	READ	11016271000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	694092
+MAP	VALUE_BYTE_COUNT	268148955
+MAP	MAP	18560478000
+MAP	WRITE	6935300000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1193440000
+MAP	SERIALIZE_OUTPUT	2907452000
+MAP	MAP_MEM	246849792
+SPILL	SORT_AND_SPILL	35938982000
+SPILL	QUICK_SORT	32569453000
+SPILL	SORT_COUNT	1279582
+SPILL	COMBINE	0
+SPILL	WRITE	3369529000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	44886005
+SPILL	COMPRESS_BYTE_COUNT	44886113
+MERGE	TOTAL_MERGE	2382000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	66842652000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00105	0
+MAP	STARTUP_MEM	214423488
+MAP	SETUP	485000
+MAP	SETUP_MEM	214423488
+MAP	CLEANUP	95000
+MAP	CLEANUP_MEM	237407024
+MAP	TOTAL_RUN	27795048000
+MAP	READ	11497792000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	913664
+MAP	VALUE_BYTE_COUNT	268089495
+MAP	MAP	15903399000
+MAP	WRITE	6347837000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	988234000
+MAP	SERIALIZE_OUTPUT	2608018000
+MAP	MAP_MEM	238262664
+SPILL	SORT_AND_SPILL	31311493000
+SPILL	QUICK_SORT	28516493000
+SPILL	SORT_COUNT	1205161
+SPILL	COMBINE	0
+SPILL	WRITE	2795000000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	43082359
+SPILL	COMPRESS_BYTE_COUNT	43082467
+MERGE	TOTAL_MERGE	1605000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	59759785000
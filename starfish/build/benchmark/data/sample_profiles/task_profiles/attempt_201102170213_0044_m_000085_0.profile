@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00081	0
+MAP	STARTUP_MEM	214461656
+MAP	SETUP	494000
+MAP	SETUP_MEM	214461656
+MAP	CLEANUP	99000
+MAP	CLEANUP_MEM	225311064
+MAP	TOTAL_RUN	29940535000
+MAP	READ	12253213000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	720643
+MAP	VALUE_BYTE_COUNT	268093743
+MAP	MAP	17157848000
+MAP	WRITE	7785768000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1392231000
+MAP	SERIALIZE_OUTPUT	2912750000
+MAP	MAP_MEM	225873224
+SPILL	SORT_AND_SPILL	38122099666
+SPILL	QUICK_SORT	30096850666
+SPILL	SORT_COUNT	1137982
+SPILL	COMBINE	0
+SPILL	WRITE	8025249000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	39867649
+SPILL	COMPRESS_BYTE_COUNT	39867757
+MERGE	TOTAL_MERGE	95205000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	69089088666
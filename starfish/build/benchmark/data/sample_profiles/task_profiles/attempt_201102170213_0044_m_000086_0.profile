@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00076	0
+MAP	STARTUP_MEM	215230576
+MAP	SETUP	463000
+MAP	SETUP_MEM	215230576
+MAP	CLEANUP	97000
+MAP	CLEANUP_MEM	223943360
+MAP	TOTAL_RUN	46937994090
+MAP	READ	16244652000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	769951
+MAP	VALUE_BYTE_COUNT	268121279
+MAP	MAP	30077934090
+MAP	WRITE	15151481090
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	3319749000
+MAP	SERIALIZE_OUTPUT	5292664000
+MAP	MAP_MEM	223943360
+SPILL	SORT_AND_SPILL	49661293000
+SPILL	QUICK_SORT	44146443000
+SPILL	SORT_COUNT	1340104
+SPILL	COMBINE	0
+SPILL	WRITE	5514850000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	46894033
+SPILL	COMPRESS_BYTE_COUNT	46894141
+MERGE	TOTAL_MERGE	339676000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	97496592090
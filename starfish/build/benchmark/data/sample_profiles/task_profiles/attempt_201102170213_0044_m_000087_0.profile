@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00059	0
+MAP	STARTUP_MEM	214382648
+MAP	SETUP	583000
+MAP	SETUP_MEM	214382648
+MAP	CLEANUP	105000
+MAP	CLEANUP_MEM	242437832
+MAP	TOTAL_RUN	31249668666
+MAP	READ	11047523666
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	733411
+MAP	VALUE_BYTE_COUNT	268132555
+MAP	MAP	19721278000
+MAP	WRITE	9057905000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1509737000
+MAP	SERIALIZE_OUTPUT	3304226000
+MAP	MAP_MEM	242437832
+SPILL	SORT_AND_SPILL	59682151819
+SPILL	QUICK_SORT	55912986000
+SPILL	SORT_COUNT	1284128
+SPILL	COMBINE	0
+SPILL	WRITE	3769165819
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	44095898
+SPILL	COMPRESS_BYTE_COUNT	44096006
+MERGE	TOTAL_MERGE	94497000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	91625699485
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00074	0
+MAP	STARTUP_MEM	217997456
+MAP	SETUP	423000
+MAP	SETUP_MEM	217997456
+MAP	CLEANUP	98000
+MAP	CLEANUP_MEM	233901944
+MAP	TOTAL_RUN	38367968090
+MAP	READ	11817160000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	782530
+MAP	VALUE_BYTE_COUNT	268180264
+MAP	MAP	26161256090
+MAP	WRITE	14373411000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1760014000
+MAP	SERIALIZE_OUTPUT	7037390000
+MAP	MAP_MEM	233901944
+SPILL	SORT_AND_SPILL	30752579000
+SPILL	QUICK_SORT	28046777000
+SPILL	SORT_COUNT	1380772
+SPILL	COMBINE	0
+SPILL	WRITE	2705802000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	48693980
+SPILL	COMPRESS_BYTE_COUNT	48694088
+MERGE	TOTAL_MERGE	1792000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	74615963090
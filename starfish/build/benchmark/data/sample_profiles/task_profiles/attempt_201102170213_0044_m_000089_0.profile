@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00091	0
+MAP	STARTUP_MEM	216347344
+MAP	SETUP	565000
+MAP	SETUP_MEM	216347344
+MAP	CLEANUP	97000
+MAP	CLEANUP_MEM	241175632
+MAP	TOTAL_RUN	29401718000
+MAP	READ	11236267000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	758114
+MAP	VALUE_BYTE_COUNT	268108173
+MAP	MAP	17773373000
+MAP	WRITE	8444361000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1243288000
+MAP	SERIALIZE_OUTPUT	3511702000
+MAP	MAP_MEM	241175632
+SPILL	SORT_AND_SPILL	34812963000
+SPILL	QUICK_SORT	32194081000
+SPILL	SORT_COUNT	1358726
+SPILL	COMBINE	0
+SPILL	WRITE	2618882000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	48315153
+SPILL	COMPRESS_BYTE_COUNT	48315261
+MERGE	TOTAL_MERGE	1747000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	65312198000
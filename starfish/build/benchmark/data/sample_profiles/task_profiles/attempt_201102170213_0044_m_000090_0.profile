@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00092	0
+MAP	STARTUP_MEM	214731568
+MAP	SETUP	489000
+MAP	SETUP_MEM	214731568
+MAP	CLEANUP	102000
+MAP	CLEANUP_MEM	228478856
+MAP	TOTAL_RUN	31944921000
+MAP	READ	14537670000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	744443
+MAP	VALUE_BYTE_COUNT	268206236
+MAP	MAP	17037357000
+MAP	WRITE	7366775000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1480785000
+MAP	SERIALIZE_OUTPUT	2827154000
+MAP	MAP_MEM	228478856
+SPILL	SORT_AND_SPILL	31349806000
+SPILL	QUICK_SORT	27552083000
+SPILL	SORT_COUNT	1242596
+SPILL	COMBINE	0
+SPILL	WRITE	3797723000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	43584032
+SPILL	COMPRESS_BYTE_COUNT	43584140
+MERGE	TOTAL_MERGE	1684000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	66769416000
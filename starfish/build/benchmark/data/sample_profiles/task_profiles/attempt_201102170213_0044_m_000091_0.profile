@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00070	0
+MAP	STARTUP_MEM	215293224
+MAP	SETUP	551000
+MAP	SETUP_MEM	215293224
+MAP	CLEANUP	105000
+MAP	CLEANUP_MEM	238889864
+MAP	TOTAL_RUN	33002094603
+MAP	READ	11123827603
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	1052709
+MAP	VALUE_BYTE_COUNT	267970266
+MAP	MAP	21009446000
+MAP	WRITE	9273045000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1535010000
+MAP	SERIALIZE_OUTPUT	3414348000
+MAP	MAP_MEM	238889864
+SPILL	SORT_AND_SPILL	48964230000
+SPILL	QUICK_SORT	43902376000
+SPILL	SORT_COUNT	1356604
+SPILL	COMBINE	0
+SPILL	WRITE	5061854000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	47834753
+SPILL	COMPRESS_BYTE_COUNT	47834861
+MERGE	TOTAL_MERGE	1770000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	82843519603
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00086	0
+MAP	STARTUP_MEM	215289744
+MAP	SETUP	495000
+MAP	SETUP_MEM	215289744
+MAP	CLEANUP	97000
+MAP	CLEANUP_MEM	241900056
+MAP	TOTAL_RUN	34937606000
+MAP	READ	13009858000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	799631
+MAP	VALUE_BYTE_COUNT	268486458
+MAP	MAP	21399066000
+MAP	WRITE	11103608000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	2492019000
+MAP	SERIALIZE_OUTPUT	3187244000
+MAP	MAP_MEM	241900056
+SPILL	SORT_AND_SPILL	40160874000
+SPILL	QUICK_SORT	36671233000
+SPILL	SORT_COUNT	1231890
+SPILL	COMBINE	0
+SPILL	WRITE	3489641000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	42233174
+SPILL	COMPRESS_BYTE_COUNT	42233282
+MERGE	TOTAL_MERGE	490589000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	76628303000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00101	0
+MAP	STARTUP_MEM	214418656
+MAP	SETUP	523000
+MAP	SETUP_MEM	214418656
+MAP	CLEANUP	111000
+MAP	CLEANUP_MEM	236564904
+MAP	TOTAL_RUN	32367901603
+MAP	READ	13295649603
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	841960
+MAP	VALUE_BYTE_COUNT	268012521
+MAP	MAP	18407713000
+MAP	WRITE	8811800000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1644363000
+MAP	SERIALIZE_OUTPUT	3322149000
+MAP	MAP_MEM	236564904
+SPILL	SORT_AND_SPILL	41646753000
+SPILL	QUICK_SORT	32265026000
+SPILL	SORT_COUNT	1268218
+SPILL	COMBINE	0
+SPILL	WRITE	9381727000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	44021731
+SPILL	COMPRESS_BYTE_COUNT	44021839
+MERGE	TOTAL_MERGE	1968000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	74816509603
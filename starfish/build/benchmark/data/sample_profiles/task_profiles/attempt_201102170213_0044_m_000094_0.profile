@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00067	0
+MAP	STARTUP_MEM	214673112
+MAP	SETUP	715000
+MAP	SETUP_MEM	214673112
+MAP	CLEANUP	97000
+MAP	CLEANUP_MEM	240310624
+MAP	TOTAL_RUN	29265038000
+MAP	READ	12838233000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	716982
+MAP	VALUE_BYTE_COUNT	268158772
+MAP	MAP	15822349000
+MAP	WRITE	6410739000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1104118000
+MAP	SERIALIZE_OUTPUT	2547671000
+MAP	MAP_MEM	240310624
+SPILL	SORT_AND_SPILL	31676554000
+SPILL	QUICK_SORT	29591755000
+SPILL	SORT_COUNT	1144612
+SPILL	COMBINE	0
+SPILL	WRITE	2084799000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	40320418
+SPILL	COMPRESS_BYTE_COUNT	40320526
+MERGE	TOTAL_MERGE	1489000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	61850926000
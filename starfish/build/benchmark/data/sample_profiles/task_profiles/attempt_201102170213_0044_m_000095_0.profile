@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00097	0
+MAP	STARTUP_MEM	215300600
+MAP	SETUP	502000
+MAP	SETUP_MEM	215300600
+MAP	CLEANUP	100000
+MAP	CLEANUP_MEM	233454392
+MAP	TOTAL_RUN	46841536648
+MAP	READ	20092914000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	774704
+MAP	VALUE_BYTE_COUNT	268103289
+MAP	MAP	25881020648
+MAP	WRITE	12565942000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1692904000
+MAP	SERIALIZE_OUTPUT	5639229000
+MAP	MAP_MEM	233454392
+SPILL	SORT_AND_SPILL	32935547548
+SPILL	QUICK_SORT	30420688548
+SPILL	SORT_COUNT	1217975
+SPILL	COMBINE	0
+SPILL	WRITE	2514859000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	43630847
+SPILL	COMPRESS_BYTE_COUNT	43630955
+MERGE	TOTAL_MERGE	1769000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	80348648196
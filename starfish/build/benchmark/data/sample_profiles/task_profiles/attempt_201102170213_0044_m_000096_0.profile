@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00104	0
+MAP	STARTUP_MEM	214447440
+MAP	SETUP	586000
+MAP	SETUP_MEM	214447440
+MAP	CLEANUP	125000
+MAP	CLEANUP_MEM	239870576
+MAP	TOTAL_RUN	29380220000
+MAP	READ	10759383000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	908613
+MAP	VALUE_BYTE_COUNT	267179594
+MAP	MAP	18064677000
+MAP	WRITE	8385017000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1516327000
+MAP	SERIALIZE_OUTPUT	2976827000
+MAP	MAP_MEM	240432736
+SPILL	SORT_AND_SPILL	30469063152
+SPILL	QUICK_SORT	28073053152
+SPILL	SORT_COUNT	1182079
+SPILL	COMBINE	0
+SPILL	WRITE	2396010000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	42024434
+SPILL	COMPRESS_BYTE_COUNT	42024542
+MERGE	TOTAL_MERGE	2384000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	61705286152
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00069	0
+MAP	STARTUP_MEM	216076936
+MAP	SETUP	500000
+MAP	SETUP_MEM	216076936
+MAP	CLEANUP	115000
+MAP	CLEANUP_MEM	221177784
+MAP	TOTAL_RUN	36816442000
+MAP	READ	13556902000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	1113889
+MAP	VALUE_BYTE_COUNT	267972223
+MAP	MAP	22700735000
+MAP	WRITE	10903350000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	2187128000
+MAP	SERIALIZE_OUTPUT	3180994000
+MAP	MAP_MEM	221177784
+SPILL	SORT_AND_SPILL	43862989000
+SPILL	QUICK_SORT	37674132000
+SPILL	SORT_COUNT	1339573
+SPILL	COMBINE	0
+SPILL	WRITE	6188857000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	47744003
+SPILL	COMPRESS_BYTE_COUNT	47744111
+MERGE	TOTAL_MERGE	1677000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	81406887000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00103	0
+MAP	STARTUP_MEM	215524480
+MAP	SETUP	1250000
+MAP	SETUP_MEM	215524480
+MAP	CLEANUP	110000
+MAP	CLEANUP_MEM	230854848
+MAP	TOTAL_RUN	47901350000
+MAP	READ	16214461000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	866467
+MAP	VALUE_BYTE_COUNT	268946290
+MAP	MAP	30544068000
+MAP	WRITE	16406240000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	2087202000
+MAP	SERIALIZE_OUTPUT	5978400000
+MAP	MAP_MEM	230854848
+SPILL	SORT_AND_SPILL	38272391000
+SPILL	QUICK_SORT	35365169000
+SPILL	SORT_COUNT	1220837
+SPILL	COMBINE	0
+SPILL	WRITE	2907222000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	44718967
+SPILL	COMPRESS_BYTE_COUNT	44719075
+MERGE	TOTAL_MERGE	2208000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	87074386000
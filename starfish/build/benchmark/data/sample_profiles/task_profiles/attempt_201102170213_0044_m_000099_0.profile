@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00085	0
+MAP	STARTUP_MEM	214420264
+MAP	SETUP	425000
+MAP	SETUP_MEM	214420264
+MAP	CLEANUP	101000
+MAP	CLEANUP_MEM	240398664
+MAP	TOTAL_RUN	35430550000
+MAP	READ	10780196000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	745003
+MAP	VALUE_BYTE_COUNT	268116533
+MAP	MAP	24030095000
+MAP	WRITE	9441210000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1240434000
+MAP	SERIALIZE_OUTPUT	4541900000
+MAP	MAP_MEM	240398664
+SPILL	SORT_AND_SPILL	46290291000
+SPILL	QUICK_SORT	41629162000
+SPILL	SORT_COUNT	1339130
+SPILL	COMBINE	0
+SPILL	WRITE	4661129000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	47039211
+SPILL	COMPRESS_BYTE_COUNT	47039319
+MERGE	TOTAL_MERGE	1599000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	82228896000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00065	0
+MAP	STARTUP_MEM	215279600
+MAP	SETUP	534000
+MAP	SETUP_MEM	215279600
+MAP	CLEANUP	18087000
+MAP	CLEANUP_MEM	231684688
+MAP	TOTAL_RUN	44020448000
+MAP	READ	18228758000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	789173
+MAP	VALUE_BYTE_COUNT	268099703
+MAP	MAP	24073296000
+MAP	WRITE	11406134000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	5433982000
+MAP	SERIALIZE_OUTPUT	2909009000
+MAP	MAP_MEM	232246848
+SPILL	SORT_AND_SPILL	39171563000
+SPILL	QUICK_SORT	32766411000
+SPILL	SORT_COUNT	1167796
+SPILL	COMBINE	0
+SPILL	WRITE	6405152000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	40980611
+SPILL	COMPRESS_BYTE_COUNT	40980719
+MERGE	TOTAL_MERGE	1436000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	84283291000
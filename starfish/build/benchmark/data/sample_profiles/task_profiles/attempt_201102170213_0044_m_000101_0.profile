@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00079	0
+MAP	STARTUP_MEM	214474344
+MAP	SETUP	453000
+MAP	SETUP_MEM	214474344
+MAP	CLEANUP	113000
+MAP	CLEANUP_MEM	234971976
+MAP	TOTAL_RUN	30911019005
+MAP	READ	10847448005
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	906899
+MAP	VALUE_BYTE_COUNT	268069235
+MAP	MAP	19442975000
+MAP	WRITE	8809511000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1395103000
+MAP	SERIALIZE_OUTPUT	3331492000
+MAP	MAP_MEM	234971976
+SPILL	SORT_AND_SPILL	39993108000
+SPILL	QUICK_SORT	34875089000
+SPILL	SORT_COUNT	1385715
+SPILL	COMBINE	0
+SPILL	WRITE	5118019000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	48002055
+SPILL	COMPRESS_BYTE_COUNT	48002163
+MERGE	TOTAL_MERGE	556657000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	72936668005
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00090	0
+MAP	STARTUP_MEM	215316008
+MAP	SETUP	96348000
+MAP	SETUP_MEM	215316008
+MAP	CLEANUP	102000
+MAP	CLEANUP_MEM	222688208
+MAP	TOTAL_RUN	31169421000
+MAP	READ	11725338000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	919058
+MAP	VALUE_BYTE_COUNT	267947970
+MAP	MAP	18837848000
+MAP	WRITE	8643683000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1185163000
+MAP	SERIALIZE_OUTPUT	3443738000
+MAP	MAP_MEM	222688208
+SPILL	SORT_AND_SPILL	40077929000
+SPILL	QUICK_SORT	35266953000
+SPILL	SORT_COUNT	1340078
+SPILL	COMBINE	0
+SPILL	WRITE	4810976000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	48684818
+SPILL	COMPRESS_BYTE_COUNT	48684926
+MERGE	TOTAL_MERGE	58357000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	72489216000
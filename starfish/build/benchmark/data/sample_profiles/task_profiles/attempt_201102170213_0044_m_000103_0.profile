@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00102	0
+MAP	STARTUP_MEM	215555496
+MAP	SETUP	465000
+MAP	SETUP_MEM	215555496
+MAP	CLEANUP	96000
+MAP	CLEANUP_MEM	217030152
+MAP	TOTAL_RUN	41441358000
+MAP	READ	18647644000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	839783
+MAP	VALUE_BYTE_COUNT	268077335
+MAP	MAP	21433601000
+MAP	WRITE	9647693000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1337651000
+MAP	SERIALIZE_OUTPUT	3528232000
+MAP	MAP_MEM	217030152
+SPILL	SORT_AND_SPILL	41605151000
+SPILL	QUICK_SORT	38130745000
+SPILL	SORT_COUNT	1265476
+SPILL	COMBINE	0
+SPILL	WRITE	3474406000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	45276343
+SPILL	COMPRESS_BYTE_COUNT	45276451
+MERGE	TOTAL_MERGE	1517000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	83536376000
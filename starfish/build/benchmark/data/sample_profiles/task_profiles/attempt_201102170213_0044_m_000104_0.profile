@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00056	0
+MAP	STARTUP_MEM	216130040
+MAP	SETUP	558000
+MAP	SETUP_MEM	216130040
+MAP	CLEANUP	106000
+MAP	CLEANUP_MEM	231957664
+MAP	TOTAL_RUN	36195696005
+MAP	READ	13799901000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	609168
+MAP	VALUE_BYTE_COUNT	268231350
+MAP	MAP	21969455005
+MAP	WRITE	9198491005
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	2222972000
+MAP	SERIALIZE_OUTPUT	3001982005
+MAP	MAP_MEM	231957664
+SPILL	SORT_AND_SPILL	36429722000
+SPILL	QUICK_SORT	34063066000
+SPILL	SORT_COUNT	1280196
+SPILL	COMBINE	0
+SPILL	WRITE	2366656000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	43968071
+SPILL	COMPRESS_BYTE_COUNT	43968179
+MERGE	TOTAL_MERGE	1481000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	73132274005
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00107	0
+MAP	STARTUP_MEM	214408128
+MAP	SETUP	464000
+MAP	SETUP_MEM	214408128
+MAP	CLEANUP	108000
+MAP	CLEANUP_MEM	225929304
+MAP	TOTAL_RUN	35784301000
+MAP	READ	12237930000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	878928
+MAP	VALUE_BYTE_COUNT	268105023
+MAP	MAP	22709928000
+MAP	WRITE	8434914000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1203454000
+MAP	SERIALIZE_OUTPUT	2379245000
+MAP	MAP_MEM	225929304
+SPILL	SORT_AND_SPILL	33213789000
+SPILL	QUICK_SORT	28159999000
+SPILL	SORT_COUNT	1087629
+SPILL	COMBINE	0
+SPILL	WRITE	5053790000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	38673361
+SPILL	COMPRESS_BYTE_COUNT	38673469
+MERGE	TOTAL_MERGE	44573000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	69553614000
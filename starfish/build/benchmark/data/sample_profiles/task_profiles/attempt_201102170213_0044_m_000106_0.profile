@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00004	0
+MAP	STARTUP_MEM	214430072
+MAP	SETUP	492000
+MAP	SETUP_MEM	214430072
+MAP	CLEANUP	106000
+MAP	CLEANUP_MEM	228952016
+MAP	TOTAL_RUN	42200732000
+MAP	READ	18304124000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	169881
+MAP	VALUE_BYTE_COUNT	268344822
+MAP	MAP	23655445000
+MAP	WRITE	12699191000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1743591000
+MAP	SERIALIZE_OUTPUT	4191327000
+MAP	MAP_MEM	228952016
+SPILL	SORT_AND_SPILL	37881504000
+SPILL	QUICK_SORT	33533393000
+SPILL	SORT_COUNT	1517137
+SPILL	COMBINE	0
+SPILL	WRITE	4348111000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	51047036
+SPILL	COMPRESS_BYTE_COUNT	51047144
+MERGE	TOTAL_MERGE	1545000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	82182380000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00106	0
+MAP	STARTUP_MEM	214652872
+MAP	SETUP	482000
+MAP	SETUP_MEM	214652872
+MAP	CLEANUP	105000
+MAP	CLEANUP_MEM	221234336
+MAP	TOTAL_RUN	31571382000
+MAP	READ	12132210000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	1344488
+MAP	VALUE_BYTE_COUNT	267930503
+MAP	MAP	18784658000
+MAP	WRITE	6953019000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1102613000
+MAP	SERIALIZE_OUTPUT	3043367000
+MAP	MAP_MEM	221234336
+SPILL	SORT_AND_SPILL	29280064000
+SPILL	QUICK_SORT	27093036000
+SPILL	SORT_COUNT	1161314
+SPILL	COMBINE	0
+SPILL	WRITE	2187028000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	42404612
+SPILL	COMPRESS_BYTE_COUNT	42404720
+MERGE	TOTAL_MERGE	2610000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	61509139000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00005	0
+MAP	STARTUP_MEM	215291912
+MAP	SETUP	533000
+MAP	SETUP_MEM	215291912
+MAP	CLEANUP	69000
+MAP	CLEANUP_MEM	230199952
+MAP	TOTAL_RUN	28828119000
+MAP	READ	12870479000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	48900
+MAP	VALUE_BYTE_COUNT	134199589
+MAP	MAP	15797207000
+MAP	WRITE	7804035000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	2048682000
+MAP	SERIALIZE_OUTPUT	2474975000
+MAP	MAP_MEM	230199952
+SPILL	SORT_AND_SPILL	21927867000
+SPILL	QUICK_SORT	18563199000
+SPILL	SORT_COUNT	779429
+SPILL	COMBINE	0
+SPILL	WRITE	3364668000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	23072174
+SPILL	COMPRESS_BYTE_COUNT	23072282
+MERGE	TOTAL_MERGE	1744000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	51515168000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00001	0
+MAP	STARTUP_MEM	215305696
+MAP	SETUP	498000
+MAP	SETUP_MEM	215305696
+MAP	CLEANUP	61000
+MAP	CLEANUP_MEM	216039584
+MAP	TOTAL_RUN	15867076000
+MAP	READ	7162803000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	26933
+MAP	VALUE_BYTE_COUNT	134325818
+MAP	MAP	8660489000
+MAP	WRITE	4085972000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	651213000
+MAP	SERIALIZE_OUTPUT	1789043000
+MAP	MAP_MEM	216601744
+SPILL	SORT_AND_SPILL	22632335000
+SPILL	QUICK_SORT	19360895000
+SPILL	SORT_COUNT	776439
+SPILL	COMBINE	0
+SPILL	WRITE	3271440000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	21773335
+SPILL	COMPRESS_BYTE_COUNT	21773443
+MERGE	TOTAL_MERGE	1532000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	40722753000
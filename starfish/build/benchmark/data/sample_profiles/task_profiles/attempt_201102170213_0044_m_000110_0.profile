@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00002	0
+MAP	STARTUP_MEM	215269592
+MAP	SETUP	507000
+MAP	SETUP_MEM	215269592
+MAP	CLEANUP	69000
+MAP	CLEANUP_MEM	238178672
+MAP	TOTAL_RUN	29720371000
+MAP	READ	9216088000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	30421
+MAP	VALUE_BYTE_COUNT	134088305
+MAP	MAP	20456345000
+MAP	WRITE	10194431000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1823008000
+MAP	SERIALIZE_OUTPUT	3260651000
+MAP	MAP_MEM	238178672
+SPILL	SORT_AND_SPILL	24749165000
+SPILL	QUICK_SORT	21943629000
+SPILL	SORT_COUNT	814114
+SPILL	COMBINE	0
+SPILL	WRITE	2805536000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	23492621
+SPILL	COMPRESS_BYTE_COUNT	23492729
+MERGE	TOTAL_MERGE	1686000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	55371527000
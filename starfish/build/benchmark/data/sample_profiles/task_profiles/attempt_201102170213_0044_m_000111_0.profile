@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00003	0
+MAP	STARTUP_MEM	216132016
+MAP	SETUP	488000
+MAP	SETUP_MEM	216132016
+MAP	CLEANUP	57000
+MAP	CLEANUP_MEM	227758072
+MAP	TOTAL_RUN	18212146000
+MAP	READ	7150039000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	34145
+MAP	VALUE_BYTE_COUNT	134204333
+MAP	MAP	11026320000
+MAP	WRITE	6213262000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	746814000
+MAP	SERIALIZE_OUTPUT	2443411000
+MAP	MAP_MEM	228613712
+SPILL	SORT_AND_SPILL	18332778000
+SPILL	QUICK_SORT	16050542000
+SPILL	SORT_COUNT	785313
+SPILL	COMBINE	0
+SPILL	WRITE	2282236000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	22775146
+SPILL	COMPRESS_BYTE_COUNT	22775254
+MERGE	TOTAL_MERGE	1704000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	37069538000
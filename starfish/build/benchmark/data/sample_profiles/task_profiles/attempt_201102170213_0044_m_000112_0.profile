@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00006	0
+MAP	STARTUP_MEM	214419280
+MAP	SETUP	427000
+MAP	SETUP_MEM	214419280
+MAP	CLEANUP	59000
+MAP	CLEANUP_MEM	220024496
+MAP	TOTAL_RUN	17772122000
+MAP	READ	6743413000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	58775
+MAP	VALUE_BYTE_COUNT	134176467
+MAP	MAP	10969276000
+MAP	WRITE	6074318000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	761639000
+MAP	SERIALIZE_OUTPUT	2132876000
+MAP	MAP_MEM	220024496
+SPILL	SORT_AND_SPILL	32613753000
+SPILL	QUICK_SORT	30832924000
+SPILL	SORT_COUNT	837210
+SPILL	COMBINE	0
+SPILL	WRITE	1780829000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	24929646
+SPILL	COMPRESS_BYTE_COUNT	24929754
+MERGE	TOTAL_MERGE	1503000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	51601875000
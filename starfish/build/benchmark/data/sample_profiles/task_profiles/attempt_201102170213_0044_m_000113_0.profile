@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00004	0
+MAP	STARTUP_MEM	214456888
+MAP	SETUP	424000
+MAP	SETUP_MEM	214456888
+MAP	CLEANUP	67000
+MAP	CLEANUP_MEM	229330856
+MAP	TOTAL_RUN	27655481000
+MAP	READ	11224793000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	47935
+MAP	VALUE_BYTE_COUNT	134161048
+MAP	MAP	16364027000
+MAP	WRITE	7260343000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	2512778000
+MAP	SERIALIZE_OUTPUT	1996532000
+MAP	MAP_MEM	229330856
+SPILL	SORT_AND_SPILL	27726506000
+SPILL	QUICK_SORT	20432056000
+SPILL	SORT_COUNT	941898
+SPILL	COMBINE	0
+SPILL	WRITE	7294450000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	26834740
+SPILL	COMPRESS_BYTE_COUNT	26834848
+MERGE	TOTAL_MERGE	1431000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	56932859000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00012	0
+MAP	STARTUP_MEM	214598480
+MAP	SETUP	431000
+MAP	SETUP_MEM	214598480
+MAP	CLEANUP	94000
+MAP	CLEANUP_MEM	227067800
+MAP	TOTAL_RUN	32830340000
+MAP	READ	13131997000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	92370
+MAP	VALUE_BYTE_COUNT	134163611
+MAP	MAP	19631203000
+MAP	WRITE	10255776000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	822846000
+MAP	SERIALIZE_OUTPUT	2639643000
+MAP	MAP_MEM	227067800
+SPILL	SORT_AND_SPILL	23334740000
+SPILL	QUICK_SORT	18552275000
+SPILL	SORT_COUNT	845318
+SPILL	COMBINE	0
+SPILL	WRITE	4782465000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	25913267
+SPILL	COMPRESS_BYTE_COUNT	25913375
+MERGE	TOTAL_MERGE	1483000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	58334964000
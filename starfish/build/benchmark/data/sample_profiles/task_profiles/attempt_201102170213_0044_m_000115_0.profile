@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00011	0
+MAP	STARTUP_MEM	218051160
+MAP	SETUP	440000
+MAP	SETUP_MEM	218051160
+MAP	CLEANUP	64000
+MAP	CLEANUP_MEM	231668912
+MAP	TOTAL_RUN	23264153000
+MAP	READ	8971985000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	79980
+MAP	VALUE_BYTE_COUNT	134180460
+MAP	MAP	14233149000
+MAP	WRITE	5530260000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	832383000
+MAP	SERIALIZE_OUTPUT	2267349000
+MAP	MAP_MEM	231668912
+SPILL	SORT_AND_SPILL	34702157000
+SPILL	QUICK_SORT	30344665000
+SPILL	SORT_COUNT	944056
+SPILL	COMBINE	0
+SPILL	WRITE	4357492000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	28899731
+SPILL	COMPRESS_BYTE_COUNT	28899839
+MERGE	TOTAL_MERGE	1508000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	64321835000
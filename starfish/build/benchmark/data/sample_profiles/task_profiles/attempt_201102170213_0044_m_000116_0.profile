@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00016	0
+MAP	STARTUP_MEM	214408856
+MAP	SETUP	438000
+MAP	SETUP_MEM	214408856
+MAP	CLEANUP	96000
+MAP	CLEANUP_MEM	231074256
+MAP	TOTAL_RUN	18068519000
+MAP	READ	9018938000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	111750
+MAP	VALUE_BYTE_COUNT	134149044
+MAP	MAP	8965155000
+MAP	WRITE	4454840000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	804498000
+MAP	SERIALIZE_OUTPUT	1793946000
+MAP	MAP_MEM	231074256
+SPILL	SORT_AND_SPILL	18486744000
+SPILL	QUICK_SORT	16993932000
+SPILL	SORT_COUNT	850362
+SPILL	COMBINE	0
+SPILL	WRITE	1492812000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	26265827
+SPILL	COMPRESS_BYTE_COUNT	26265935
+MERGE	TOTAL_MERGE	1514000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	37011706000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00014	0
+MAP	STARTUP_MEM	215258824
+MAP	SETUP	512000
+MAP	SETUP_MEM	215258824
+MAP	CLEANUP	68000
+MAP	CLEANUP_MEM	226219520
+MAP	TOTAL_RUN	21596543819
+MAP	READ	7666191819
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	102516
+MAP	VALUE_BYTE_COUNT	134138055
+MAP	MAP	13772692000
+MAP	WRITE	6074899000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1091430000
+MAP	SERIALIZE_OUTPUT	2229866000
+MAP	MAP_MEM	226219520
+SPILL	SORT_AND_SPILL	21380151000
+SPILL	QUICK_SORT	18923394000
+SPILL	SORT_COUNT	846969
+SPILL	COMBINE	0
+SPILL	WRITE	2456757000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	26046035
+SPILL	COMPRESS_BYTE_COUNT	26046143
+MERGE	TOTAL_MERGE	1720000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	45504224819
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00013	0
+MAP	STARTUP_MEM	215240928
+MAP	SETUP	545000
+MAP	SETUP_MEM	215240928
+MAP	CLEANUP	110000
+MAP	CLEANUP_MEM	245279896
+MAP	TOTAL_RUN	29451131040
+MAP	READ	8753385000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	103830
+MAP	VALUE_BYTE_COUNT	134198389
+MAP	MAP	20598622040
+MAP	WRITE	11773836000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1603892000
+MAP	SERIALIZE_OUTPUT	3862777000
+MAP	MAP_MEM	245842056
+SPILL	SORT_AND_SPILL	20065463000
+SPILL	QUICK_SORT	18386489000
+SPILL	SORT_COUNT	891318
+SPILL	COMBINE	0
+SPILL	WRITE	1678974000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	27514537
+SPILL	COMPRESS_BYTE_COUNT	27514645
+MERGE	TOTAL_MERGE	1631000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	50141995040
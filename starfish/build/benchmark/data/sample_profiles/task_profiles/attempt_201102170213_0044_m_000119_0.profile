@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00018	0
+MAP	STARTUP_MEM	214461952
+MAP	SETUP	449000
+MAP	SETUP_MEM	214461952
+MAP	CLEANUP	62000
+MAP	CLEANUP_MEM	232297200
+MAP	TOTAL_RUN	15481060000
+MAP	READ	5488022000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	135774
+MAP	VALUE_BYTE_COUNT	134091423
+MAP	MAP	9901951000
+MAP	WRITE	4529708000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	767776000
+MAP	SERIALIZE_OUTPUT	1849774000
+MAP	MAP_MEM	232297200
+SPILL	SORT_AND_SPILL	18462223000
+SPILL	QUICK_SORT	16324585000
+SPILL	SORT_COUNT	857878
+SPILL	COMBINE	0
+SPILL	WRITE	2137638000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	26787725
+SPILL	COMPRESS_BYTE_COUNT	26787833
+MERGE	TOTAL_MERGE	1685000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	35680417000
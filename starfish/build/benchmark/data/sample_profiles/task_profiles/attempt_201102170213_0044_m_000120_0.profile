@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00017	0
+MAP	STARTUP_MEM	216171168
+MAP	SETUP	437000
+MAP	SETUP_MEM	216171168
+MAP	CLEANUP	104000
+MAP	CLEANUP_MEM	247211728
+MAP	TOTAL_RUN	22906106000
+MAP	READ	8246159000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	126354
+MAP	VALUE_BYTE_COUNT	134221916
+MAP	MAP	14572400000
+MAP	WRITE	6107302000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1561579000
+MAP	SERIALIZE_OUTPUT	1950146000
+MAP	MAP_MEM	247211728
+SPILL	SORT_AND_SPILL	23425726000
+SPILL	QUICK_SORT	21436149000
+SPILL	SORT_COUNT	884278
+SPILL	COMBINE	0
+SPILL	WRITE	1989577000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	27320797
+SPILL	COMPRESS_BYTE_COUNT	27320905
+MERGE	TOTAL_MERGE	1599000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	50158567000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00019	0
+MAP	STARTUP_MEM	214401616
+MAP	SETUP	481000
+MAP	SETUP_MEM	214401616
+MAP	CLEANUP	111000
+MAP	CLEANUP_MEM	244449872
+MAP	TOTAL_RUN	25839781000
+MAP	READ	8622007000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	127884
+MAP	VALUE_BYTE_COUNT	134148666
+MAP	MAP	16885931000
+MAP	WRITE	8369746000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1473695000
+MAP	SERIALIZE_OUTPUT	2879957000
+MAP	MAP_MEM	244449872
+SPILL	SORT_AND_SPILL	23113637000
+SPILL	QUICK_SORT	20874464000
+SPILL	SORT_COUNT	880072
+SPILL	COMBINE	0
+SPILL	WRITE	2239173000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	28099204
+SPILL	COMPRESS_BYTE_COUNT	28099312
+MERGE	TOTAL_MERGE	1558000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	49706413000
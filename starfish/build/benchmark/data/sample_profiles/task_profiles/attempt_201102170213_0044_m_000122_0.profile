@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00020	0
+MAP	STARTUP_MEM	214493928
+MAP	SETUP	450000
+MAP	SETUP_MEM	214493928
+MAP	CLEANUP	68000
+MAP	CLEANUP_MEM	238425120
+MAP	TOTAL_RUN	19494864000
+MAP	READ	6992420000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	139938
+MAP	VALUE_BYTE_COUNT	134185091
+MAP	MAP	12380758000
+MAP	WRITE	5994701000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1104015000
+MAP	SERIALIZE_OUTPUT	2368577000
+MAP	MAP_MEM	239099184
+SPILL	SORT_AND_SPILL	20682207000
+SPILL	QUICK_SORT	19013533000
+SPILL	SORT_COUNT	867637
+SPILL	COMBINE	0
+SPILL	WRITE	1668674000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	27303748
+SPILL	COMPRESS_BYTE_COUNT	27303856
+MERGE	TOTAL_MERGE	1509000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	42757403000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00023	0
+MAP	STARTUP_MEM	215278304
+MAP	SETUP	521000
+MAP	SETUP_MEM	215278304
+MAP	CLEANUP	103000
+MAP	CLEANUP_MEM	244495512
+MAP	TOTAL_RUN	19141684000
+MAP	READ	6524503000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	165336
+MAP	VALUE_BYTE_COUNT	134148893
+MAP	MAP	12452140000
+MAP	WRITE	5906783000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1103320000
+MAP	SERIALIZE_OUTPUT	2256600000
+MAP	MAP_MEM	245057672
+SPILL	SORT_AND_SPILL	19474450000
+SPILL	QUICK_SORT	17798864000
+SPILL	SORT_COUNT	884248
+SPILL	COMBINE	0
+SPILL	WRITE	1675586000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	27698220
+SPILL	COMPRESS_BYTE_COUNT	27698328
+MERGE	TOTAL_MERGE	1515000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	39209201000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00036	0
+MAP	STARTUP_MEM	216107472
+MAP	SETUP	476000
+MAP	SETUP_MEM	216107472
+MAP	CLEANUP	96000
+MAP	CLEANUP_MEM	220297728
+MAP	TOTAL_RUN	17044467000
+MAP	READ	5855509000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	222174
+MAP	VALUE_BYTE_COUNT	134103422
+MAP	MAP	11041337000
+MAP	WRITE	5260523000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	688839000
+MAP	SERIALIZE_OUTPUT	1710063000
+MAP	MAP_MEM	220297728
+SPILL	SORT_AND_SPILL	19304833000
+SPILL	QUICK_SORT	17805748000
+SPILL	SORT_COUNT	820092
+SPILL	COMBINE	0
+SPILL	WRITE	1499085000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	26651278
+SPILL	COMPRESS_BYTE_COUNT	26651386
+MERGE	TOTAL_MERGE	1430000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	36801204000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00021	0
+MAP	STARTUP_MEM	215260680
+MAP	SETUP	508000
+MAP	SETUP_MEM	215260680
+MAP	CLEANUP	115000
+MAP	CLEANUP_MEM	222126064
+MAP	TOTAL_RUN	24465503000
+MAP	READ	11572484000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	159132
+MAP	VALUE_BYTE_COUNT	134100246
+MAP	MAP	12735349000
+MAP	WRITE	6606960000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1039013000
+MAP	SERIALIZE_OUTPUT	2172646000
+MAP	MAP_MEM	222126064
+SPILL	SORT_AND_SPILL	21111527000
+SPILL	QUICK_SORT	19209675000
+SPILL	SORT_COUNT	913869
+SPILL	COMBINE	0
+SPILL	WRITE	1901852000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	28261924
+SPILL	COMPRESS_BYTE_COUNT	28262032
+MERGE	TOTAL_MERGE	1819000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	47553724000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00022	0
+MAP	STARTUP_MEM	216151472
+MAP	SETUP	567000
+MAP	SETUP_MEM	216151472
+MAP	CLEANUP	102000
+MAP	CLEANUP_MEM	236494616
+MAP	TOTAL_RUN	19888785719
+MAP	READ	6299036000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	172104
+MAP	VALUE_BYTE_COUNT	134127919
+MAP	MAP	13468739719
+MAP	WRITE	5145493719
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	801151000
+MAP	SERIALIZE_OUTPUT	1945363000
+MAP	MAP_MEM	236494616
+SPILL	SORT_AND_SPILL	17780503000
+SPILL	QUICK_SORT	16307205000
+SPILL	SORT_COUNT	849734
+SPILL	COMBINE	0
+SPILL	WRITE	1473298000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	26673908
+SPILL	COMPRESS_BYTE_COUNT	26674016
+MERGE	TOTAL_MERGE	1423000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	38223452719
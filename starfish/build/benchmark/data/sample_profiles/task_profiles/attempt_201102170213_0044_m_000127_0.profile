@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00038	0
+MAP	STARTUP_MEM	215276552
+MAP	SETUP	544000
+MAP	SETUP_MEM	215276552
+MAP	CLEANUP	106000
+MAP	CLEANUP_MEM	246832976
+MAP	TOTAL_RUN	24791251000
+MAP	READ	10647672000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	221220
+MAP	VALUE_BYTE_COUNT	134112878
+MAP	MAP	13949267000
+MAP	WRITE	7348689000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1843749000
+MAP	SERIALIZE_OUTPUT	2784220000
+MAP	MAP_MEM	247310672
+SPILL	SORT_AND_SPILL	19073795666
+SPILL	QUICK_SORT	16904245666
+SPILL	SORT_COUNT	812854
+SPILL	COMBINE	0
+SPILL	WRITE	2169550000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	26346536
+SPILL	COMPRESS_BYTE_COUNT	26346644
+MERGE	TOTAL_MERGE	1533000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	44411653666
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00039	0
+MAP	STARTUP_MEM	214455312
+MAP	SETUP	771000
+MAP	SETUP_MEM	214455312
+MAP	CLEANUP	108000
+MAP	CLEANUP_MEM	219867504
+MAP	TOTAL_RUN	16562130000
+MAP	READ	5992009000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	229002
+MAP	VALUE_BYTE_COUNT	134105114
+MAP	MAP	10404790000
+MAP	WRITE	4594547000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	766480000
+MAP	SERIALIZE_OUTPUT	1776644000
+MAP	MAP_MEM	220723144
+SPILL	SORT_AND_SPILL	18253223000
+SPILL	QUICK_SORT	16703737000
+SPILL	SORT_COUNT	820026
+SPILL	COMBINE	0
+SPILL	WRITE	1549486000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	26600361
+SPILL	COMPRESS_BYTE_COUNT	26600469
+MERGE	TOTAL_MERGE	1743000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	35317890000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00015	0
+MAP	STARTUP_MEM	214415480
+MAP	SETUP	503000
+MAP	SETUP_MEM	214415480
+MAP	CLEANUP	100000
+MAP	CLEANUP_MEM	214319672
+MAP	TOTAL_RUN	25927561000
+MAP	READ	9270856000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	117264
+MAP	VALUE_BYTE_COUNT	134166191
+MAP	MAP	16491342000
+MAP	WRITE	8948402000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	886909000
+MAP	SERIALIZE_OUTPUT	2779189000
+MAP	MAP_MEM	214319672
+SPILL	SORT_AND_SPILL	18398030000
+SPILL	QUICK_SORT	16962787000
+SPILL	SORT_COUNT	816056
+SPILL	COMBINE	0
+SPILL	WRITE	1435243000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	25493667
+SPILL	COMPRESS_BYTE_COUNT	25493775
+MERGE	TOTAL_MERGE	62470000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	45602952000
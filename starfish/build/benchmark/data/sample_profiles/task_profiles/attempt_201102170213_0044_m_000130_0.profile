@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00040	0
+MAP	STARTUP_MEM	215289608
+MAP	SETUP	525000
+MAP	SETUP_MEM	215289608
+MAP	CLEANUP	92000
+MAP	CLEANUP_MEM	225110352
+MAP	TOTAL_RUN	18869268000
+MAP	READ	8245986000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	246084
+MAP	VALUE_BYTE_COUNT	134088536
+MAP	MAP	10446742000
+MAP	WRITE	4682991000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	849704000
+MAP	SERIALIZE_OUTPUT	1986954000
+MAP	MAP_MEM	225672512
+SPILL	SORT_AND_SPILL	18688897000
+SPILL	QUICK_SORT	17080896000
+SPILL	SORT_COUNT	819705
+SPILL	COMBINE	0
+SPILL	WRITE	1608001000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	26761678
+SPILL	COMPRESS_BYTE_COUNT	26761786
+MERGE	TOTAL_MERGE	1698000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	38602336000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00025	0
+MAP	STARTUP_MEM	216126416
+MAP	SETUP	489000
+MAP	SETUP_MEM	216126416
+MAP	CLEANUP	113000
+MAP	CLEANUP_MEM	234763384
+MAP	TOTAL_RUN	17678877000
+MAP	READ	6555711000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	183696
+MAP	VALUE_BYTE_COUNT	134121615
+MAP	MAP	10988352000
+MAP	WRITE	5234175000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	927990000
+MAP	SERIALIZE_OUTPUT	2287045000
+MAP	MAP_MEM	235619024
+SPILL	SORT_AND_SPILL	23391904000
+SPILL	QUICK_SORT	21809747000
+SPILL	SORT_COUNT	846377
+SPILL	COMBINE	0
+SPILL	WRITE	1582157000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	26517243
+SPILL	COMPRESS_BYTE_COUNT	26517351
+MERGE	TOTAL_MERGE	1634000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	41762374000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00033	0
+MAP	STARTUP_MEM	214476960
+MAP	SETUP	538000
+MAP	SETUP_MEM	214476960
+MAP	CLEANUP	93000
+MAP	CLEANUP_MEM	227763320
+MAP	TOTAL_RUN	20165887000
+MAP	READ	7797453000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	222162
+MAP	VALUE_BYTE_COUNT	134076185
+MAP	MAP	12171846000
+MAP	WRITE	5959331000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1199052000
+MAP	SERIALIZE_OUTPUT	2186020000
+MAP	MAP_MEM	227763320
+SPILL	SORT_AND_SPILL	19987855000
+SPILL	QUICK_SORT	18087805000
+SPILL	SORT_COUNT	829409
+SPILL	COMBINE	0
+SPILL	WRITE	1900050000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	26941601
+SPILL	COMPRESS_BYTE_COUNT	26941709
+MERGE	TOTAL_MERGE	1540000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	42076479000
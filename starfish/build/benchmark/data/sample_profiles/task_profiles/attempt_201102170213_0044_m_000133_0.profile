@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00026	0
+MAP	STARTUP_MEM	215269192
+MAP	SETUP	503000
+MAP	SETUP_MEM	215269192
+MAP	CLEANUP	102000
+MAP	CLEANUP_MEM	232304096
+MAP	TOTAL_RUN	17660981000
+MAP	READ	6400610000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	199128
+MAP	VALUE_BYTE_COUNT	134129774
+MAP	MAP	11131962000
+MAP	WRITE	5006664000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	702462000
+MAP	SERIALIZE_OUTPUT	1856735000
+MAP	MAP_MEM	232866256
+SPILL	SORT_AND_SPILL	20893591000
+SPILL	QUICK_SORT	18806661000
+SPILL	SORT_COUNT	845413
+SPILL	COMBINE	0
+SPILL	WRITE	2086930000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	26499067
+SPILL	COMPRESS_BYTE_COUNT	26499175
+MERGE	TOTAL_MERGE	1537000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	39043547000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00031	0
+MAP	STARTUP_MEM	215295736
+MAP	SETUP	480000
+MAP	SETUP_MEM	215295736
+MAP	CLEANUP	112000
+MAP	CLEANUP_MEM	233989728
+MAP	TOTAL_RUN	18423328000
+MAP	READ	7334520000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	202614
+MAP	VALUE_BYTE_COUNT	134125690
+MAP	MAP	10950288000
+MAP	WRITE	5557186000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	741799000
+MAP	SERIALIZE_OUTPUT	1972154000
+MAP	MAP_MEM	234551888
+SPILL	SORT_AND_SPILL	20159639000
+SPILL	QUICK_SORT	18469133000
+SPILL	SORT_COUNT	838324
+SPILL	COMBINE	0
+SPILL	WRITE	1690506000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	27012337
+SPILL	COMPRESS_BYTE_COUNT	27012445
+MERGE	TOTAL_MERGE	1562000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	39105454000
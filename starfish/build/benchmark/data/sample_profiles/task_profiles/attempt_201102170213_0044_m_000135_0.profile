@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00030	0
+MAP	STARTUP_MEM	216106288
+MAP	SETUP	509000
+MAP	SETUP_MEM	216106288
+MAP	CLEANUP	103000
+MAP	CLEANUP_MEM	220701016
+MAP	TOTAL_RUN	15923411000
+MAP	READ	6111938000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	198552
+MAP	VALUE_BYTE_COUNT	134125157
+MAP	MAP	9645399000
+MAP	WRITE	4412980000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	817886000
+MAP	SERIALIZE_OUTPUT	1829112000
+MAP	MAP_MEM	221556656
+SPILL	SORT_AND_SPILL	17728048000
+SPILL	QUICK_SORT	15249174000
+SPILL	SORT_COUNT	807840
+SPILL	COMBINE	0
+SPILL	WRITE	2478874000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	25452658
+SPILL	COMPRESS_BYTE_COUNT	25452766
+MERGE	TOTAL_MERGE	1414000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	34150835000
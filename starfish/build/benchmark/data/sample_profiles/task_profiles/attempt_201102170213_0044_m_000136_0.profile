@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00047	0
+MAP	STARTUP_MEM	215535552
+MAP	SETUP	595000
+MAP	SETUP_MEM	215535552
+MAP	CLEANUP	104000
+MAP	CLEANUP_MEM	219834208
+MAP	TOTAL_RUN	16016342000
+MAP	READ	5536186000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	293363
+MAP	VALUE_BYTE_COUNT	134093756
+MAP	MAP	10322207000
+MAP	WRITE	4566930000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1059613000
+MAP	SERIALIZE_OUTPUT	1766351000
+MAP	MAP_MEM	219834208
+SPILL	SORT_AND_SPILL	17677425000
+SPILL	QUICK_SORT	15821389000
+SPILL	SORT_COUNT	814294
+SPILL	COMBINE	0
+SPILL	WRITE	1856036000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	26481718
+SPILL	COMPRESS_BYTE_COUNT	26481826
+MERGE	TOTAL_MERGE	1548000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	34224961000
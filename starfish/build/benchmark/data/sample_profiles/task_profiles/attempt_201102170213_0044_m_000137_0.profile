@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00028	0
+MAP	STARTUP_MEM	216100272
+MAP	SETUP	474000
+MAP	SETUP_MEM	216100272
+MAP	CLEANUP	92000
+MAP	CLEANUP_MEM	234564656
+MAP	TOTAL_RUN	16563573000
+MAP	READ	5624337000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	180360
+MAP	VALUE_BYTE_COUNT	134124716
+MAP	MAP	10795783000
+MAP	WRITE	5697381000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	737537000
+MAP	SERIALIZE_OUTPUT	1819776000
+MAP	MAP_MEM	234564656
+SPILL	SORT_AND_SPILL	15818442000
+SPILL	QUICK_SORT	14397441000
+SPILL	SORT_COUNT	806853
+SPILL	COMBINE	0
+SPILL	WRITE	1421001000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	25198452
+SPILL	COMPRESS_BYTE_COUNT	25198560
+MERGE	TOTAL_MERGE	1442000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	32826640000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00043	0
+MAP	STARTUP_MEM	215271424
+MAP	SETUP	466000
+MAP	SETUP_MEM	215271424
+MAP	CLEANUP	123000
+MAP	CLEANUP_MEM	223548128
+MAP	TOTAL_RUN	18853062000
+MAP	READ	7113854000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	280196
+MAP	VALUE_BYTE_COUNT	134093866
+MAP	MAP	11575764000
+MAP	WRITE	4555926000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	961081000
+MAP	SERIALIZE_OUTPUT	1784200000
+MAP	MAP_MEM	223548128
+SPILL	SORT_AND_SPILL	20801723000
+SPILL	QUICK_SORT	19161211000
+SPILL	SORT_COUNT	829192
+SPILL	COMBINE	0
+SPILL	WRITE	1640512000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	27297627
+SPILL	COMPRESS_BYTE_COUNT	27297735
+MERGE	TOTAL_MERGE	1672000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	40379962000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00037	0
+MAP	STARTUP_MEM	215246432
+MAP	SETUP	524000
+MAP	SETUP_MEM	215246432
+MAP	CLEANUP	99000
+MAP	CLEANUP_MEM	216337856
+MAP	TOTAL_RUN	17222952000
+MAP	READ	6625444000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	217830
+MAP	VALUE_BYTE_COUNT	134111030
+MAP	MAP	10398761000
+MAP	WRITE	5229846000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	834426000
+MAP	SERIALIZE_OUTPUT	1910816000
+MAP	MAP_MEM	216337856
+SPILL	SORT_AND_SPILL	21777688000
+SPILL	QUICK_SORT	20142173000
+SPILL	SORT_COUNT	820984
+SPILL	COMBINE	0
+SPILL	WRITE	1635515000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	26702463
+SPILL	COMPRESS_BYTE_COUNT	26702571
+MERGE	TOTAL_MERGE	1637000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	39685163000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00024	0
+MAP	STARTUP_MEM	214405768
+MAP	SETUP	485000
+MAP	SETUP_MEM	214405768
+MAP	CLEANUP	104000
+MAP	CLEANUP_MEM	236591440
+MAP	TOTAL_RUN	18806420044
+MAP	READ	5828147000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	158028
+MAP	VALUE_BYTE_COUNT	134133810
+MAP	MAP	12846685044
+MAP	WRITE	6980462000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1862701000
+MAP	SERIALIZE_OUTPUT	2439897000
+MAP	MAP_MEM	236591440
+SPILL	SORT_AND_SPILL	21627654000
+SPILL	QUICK_SORT	19404123000
+SPILL	SORT_COUNT	937677
+SPILL	COMBINE	0
+SPILL	WRITE	2223531000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	29783376
+SPILL	COMPRESS_BYTE_COUNT	29783484
+MERGE	TOTAL_MERGE	1738000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	40909465044
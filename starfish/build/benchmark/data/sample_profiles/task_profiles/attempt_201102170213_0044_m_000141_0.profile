@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00029	0
+MAP	STARTUP_MEM	215553416
+MAP	SETUP	497000
+MAP	SETUP_MEM	215553416
+MAP	CLEANUP	102000
+MAP	CLEANUP_MEM	229805808
+MAP	TOTAL_RUN	19387004000
+MAP	READ	6935125000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	204942
+MAP	VALUE_BYTE_COUNT	134128350
+MAP	MAP	12317178000
+MAP	WRITE	5422480000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	841584000
+MAP	SERIALIZE_OUTPUT	2469108000
+MAP	MAP_MEM	229805808
+SPILL	SORT_AND_SPILL	19061148993
+SPILL	QUICK_SORT	17619781993
+SPILL	SORT_COUNT	833810
+SPILL	COMBINE	0
+SPILL	WRITE	1441367000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	26343844
+SPILL	COMPRESS_BYTE_COUNT	26343952
+MERGE	TOTAL_MERGE	1539000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	38999778993
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00035	0
+MAP	STARTUP_MEM	215292528
+MAP	SETUP	833000
+MAP	SETUP_MEM	215292528
+MAP	CLEANUP	98000
+MAP	CLEANUP_MEM	244843408
+MAP	TOTAL_RUN	20732559000
+MAP	READ	8001956000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	276588
+MAP	VALUE_BYTE_COUNT	134079750
+MAP	MAP	12511682000
+MAP	WRITE	6421441000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1009996000
+MAP	SERIALIZE_OUTPUT	2001996000
+MAP	MAP_MEM	244843408
+SPILL	SORT_AND_SPILL	18459003913
+SPILL	QUICK_SORT	16817372000
+SPILL	SORT_COUNT	853017
+SPILL	COMBINE	0
+SPILL	WRITE	1641631913
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	27713137
+SPILL	COMPRESS_BYTE_COUNT	27713245
+MERGE	TOTAL_MERGE	1682000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	40034497913
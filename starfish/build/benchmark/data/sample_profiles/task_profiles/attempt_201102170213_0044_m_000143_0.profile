@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00044	0
+MAP	STARTUP_MEM	215527032
+MAP	SETUP	495000
+MAP	SETUP_MEM	215527032
+MAP	CLEANUP	91000
+MAP	CLEANUP_MEM	223902824
+MAP	TOTAL_RUN	18656510993
+MAP	READ	5643684000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	316246
+MAP	VALUE_BYTE_COUNT	134083824
+MAP	MAP	12836234993
+MAP	WRITE	5009994000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	851568000
+MAP	SERIALIZE_OUTPUT	2149688000
+MAP	MAP_MEM	223902824
+SPILL	SORT_AND_SPILL	20021384000
+SPILL	QUICK_SORT	18256723000
+SPILL	SORT_COUNT	817726
+SPILL	COMBINE	0
+SPILL	WRITE	1764661000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	26766947
+SPILL	COMPRESS_BYTE_COUNT	26767055
+MERGE	TOTAL_MERGE	1487000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	40064934993
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00051	0
+MAP	STARTUP_MEM	216160648
+MAP	SETUP	483000
+MAP	SETUP_MEM	216160648
+MAP	CLEANUP	86000
+MAP	CLEANUP_MEM	213314576
+MAP	TOTAL_RUN	19077808000
+MAP	READ	7611541000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	304598
+MAP	VALUE_BYTE_COUNT	134084428
+MAP	MAP	11288997000
+MAP	WRITE	5898754000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	833707000
+MAP	SERIALIZE_OUTPUT	2215024000
+MAP	MAP_MEM	213314576
+SPILL	SORT_AND_SPILL	17117773000
+SPILL	QUICK_SORT	15721963000
+SPILL	SORT_COUNT	800506
+SPILL	COMBINE	0
+SPILL	WRITE	1395810000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	26182579
+SPILL	COMPRESS_BYTE_COUNT	26182687
+MERGE	TOTAL_MERGE	1421000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	36750804000
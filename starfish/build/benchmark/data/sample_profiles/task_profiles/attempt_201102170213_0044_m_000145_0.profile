@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00054	0
+MAP	STARTUP_MEM	215298192
+MAP	SETUP	463000
+MAP	SETUP_MEM	215298192
+MAP	CLEANUP	96000
+MAP	CLEANUP_MEM	220382656
+MAP	TOTAL_RUN	20056439000
+MAP	READ	6655586000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	283549
+MAP	VALUE_BYTE_COUNT	134161954
+MAP	MAP	13244952000
+MAP	WRITE	7834838000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	797914000
+MAP	SERIALIZE_OUTPUT	1757781000
+MAP	MAP_MEM	220382656
+SPILL	SORT_AND_SPILL	20676837000
+SPILL	QUICK_SORT	19166706000
+SPILL	SORT_COUNT	799411
+SPILL	COMBINE	0
+SPILL	WRITE	1510131000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	26158163
+SPILL	COMPRESS_BYTE_COUNT	26158271
+MERGE	TOTAL_MERGE	1804000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	41378077000
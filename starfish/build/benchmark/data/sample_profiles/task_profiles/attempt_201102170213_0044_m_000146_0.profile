@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00048	0
+MAP	STARTUP_MEM	216104816
+MAP	SETUP	505000
+MAP	SETUP_MEM	216104816
+MAP	CLEANUP	97000
+MAP	CLEANUP_MEM	246407736
+MAP	TOTAL_RUN	17718911000
+MAP	READ	7524109000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	297444
+MAP	VALUE_BYTE_COUNT	134127982
+MAP	MAP	10031679000
+MAP	WRITE	4217580000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	723038000
+MAP	SERIALIZE_OUTPUT	1768360000
+MAP	MAP_MEM	246407736
+SPILL	SORT_AND_SPILL	20328720000
+SPILL	QUICK_SORT	16610836000
+SPILL	SORT_COUNT	786297
+SPILL	COMBINE	0
+SPILL	WRITE	3717884000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	25540982
+SPILL	COMPRESS_BYTE_COUNT	25541090
+MERGE	TOTAL_MERGE	1484000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	38643610000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00049	0
+MAP	STARTUP_MEM	214448664
+MAP	SETUP	473000
+MAP	SETUP_MEM	214448664
+MAP	CLEANUP	105000
+MAP	CLEANUP_MEM	220746248
+MAP	TOTAL_RUN	19843979044
+MAP	READ	7304363000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	309456
+MAP	VALUE_BYTE_COUNT	134043822
+MAP	MAP	12325143044
+MAP	WRITE	6296497044
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1126425000
+MAP	SERIALIZE_OUTPUT	2453278044
+MAP	MAP_MEM	220746248
+SPILL	SORT_AND_SPILL	24878651000
+SPILL	QUICK_SORT	23365122000
+SPILL	SORT_COUNT	812361
+SPILL	COMBINE	0
+SPILL	WRITE	1513529000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	26348210
+SPILL	COMPRESS_BYTE_COUNT	26348318
+MERGE	TOTAL_MERGE	1699000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	45278569044
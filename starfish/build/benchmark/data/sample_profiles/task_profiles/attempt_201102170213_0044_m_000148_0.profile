@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00046	0
+MAP	STARTUP_MEM	215465336
+MAP	SETUP	464000
+MAP	SETUP_MEM	215465336
+MAP	CLEANUP	92000
+MAP	CLEANUP_MEM	218481024
+MAP	TOTAL_RUN	15938719000
+MAP	READ	5535064000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	289583
+MAP	VALUE_BYTE_COUNT	134082442
+MAP	MAP	10233329000
+MAP	WRITE	4455412000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	751219000
+MAP	SERIALIZE_OUTPUT	1840609000
+MAP	MAP_MEM	218481024
+SPILL	SORT_AND_SPILL	22066409000
+SPILL	QUICK_SORT	20325710000
+SPILL	SORT_COUNT	813151
+SPILL	COMBINE	0
+SPILL	WRITE	1740699000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	26566904
+SPILL	COMPRESS_BYTE_COUNT	26567012
+MERGE	TOTAL_MERGE	1508000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	38584900000
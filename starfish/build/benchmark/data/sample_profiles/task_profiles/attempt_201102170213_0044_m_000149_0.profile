@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00034	0
+MAP	STARTUP_MEM	216113344
+MAP	SETUP	477000
+MAP	SETUP_MEM	216113344
+MAP	CLEANUP	95000
+MAP	CLEANUP_MEM	223785680
+MAP	TOTAL_RUN	24128206000
+MAP	READ	9414504000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	195900
+MAP	VALUE_BYTE_COUNT	134122624
+MAP	MAP	14582722000
+MAP	WRITE	6844571000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	892847000
+MAP	SERIALIZE_OUTPUT	3187203000
+MAP	MAP_MEM	223785680
+SPILL	SORT_AND_SPILL	23615082000
+SPILL	QUICK_SORT	22026418000
+SPILL	SORT_COUNT	906324
+SPILL	COMBINE	0
+SPILL	WRITE	1588664000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	29465370
+SPILL	COMPRESS_BYTE_COUNT	29465478
+MERGE	TOTAL_MERGE	1592000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	48419693000
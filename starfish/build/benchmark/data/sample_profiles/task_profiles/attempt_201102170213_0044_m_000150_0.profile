@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00032	0
+MAP	STARTUP_MEM	216355960
+MAP	SETUP	507000
+MAP	SETUP_MEM	216355960
+MAP	CLEANUP	103000
+MAP	CLEANUP_MEM	247323712
+MAP	TOTAL_RUN	17711080000
+MAP	READ	6268439000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	196020
+MAP	VALUE_BYTE_COUNT	134119719
+MAP	MAP	11313951000
+MAP	WRITE	5976292000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1001616000
+MAP	SERIALIZE_OUTPUT	2334534000
+MAP	MAP_MEM	247323712
+SPILL	SORT_AND_SPILL	17616674000
+SPILL	QUICK_SORT	15730908000
+SPILL	SORT_COUNT	880271
+SPILL	COMBINE	0
+SPILL	WRITE	1885766000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	28174514
+SPILL	COMPRESS_BYTE_COUNT	28174622
+MERGE	TOTAL_MERGE	1512000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	35888443000
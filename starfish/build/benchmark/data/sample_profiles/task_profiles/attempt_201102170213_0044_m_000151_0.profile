@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00056	0
+MAP	STARTUP_MEM	216059136
+MAP	SETUP	485000
+MAP	SETUP_MEM	216059136
+MAP	CLEANUP	97000
+MAP	CLEANUP_MEM	215661272
+MAP	TOTAL_RUN	18636159000
+MAP	READ	7517415000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	309694
+MAP	VALUE_BYTE_COUNT	134109210
+MAP	MAP	10946465000
+MAP	WRITE	5809944000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	998994000
+MAP	SERIALIZE_OUTPUT	2244264000
+MAP	MAP_MEM	215661272
+SPILL	SORT_AND_SPILL	18146474000
+SPILL	QUICK_SORT	16801434000
+SPILL	SORT_COUNT	801167
+SPILL	COMBINE	0
+SPILL	WRITE	1345040000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	26430607
+SPILL	COMPRESS_BYTE_COUNT	26430715
+MERGE	TOTAL_MERGE	1575000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	37416427000
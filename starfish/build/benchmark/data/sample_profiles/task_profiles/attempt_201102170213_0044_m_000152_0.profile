@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00050	0
+MAP	STARTUP_MEM	216116768
+MAP	SETUP	479000
+MAP	SETUP_MEM	216116768
+MAP	CLEANUP	101000
+MAP	CLEANUP_MEM	224626616
+MAP	TOTAL_RUN	19090930000
+MAP	READ	8578074000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	316561
+MAP	VALUE_BYTE_COUNT	134084614
+MAP	MAP	10296626000
+MAP	WRITE	4634233000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	841282000
+MAP	SERIALIZE_OUTPUT	1986846000
+MAP	MAP_MEM	224626616
+SPILL	SORT_AND_SPILL	25562255000
+SPILL	QUICK_SORT	24135118000
+SPILL	SORT_COUNT	821342
+SPILL	COMBINE	0
+SPILL	WRITE	1427137000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	27013715
+SPILL	COMPRESS_BYTE_COUNT	27013823
+MERGE	TOTAL_MERGE	1457000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	45820789000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00055	0
+MAP	STARTUP_MEM	216120016
+MAP	SETUP	477000
+MAP	SETUP_MEM	216120016
+MAP	CLEANUP	92000
+MAP	CLEANUP_MEM	214700248
+MAP	TOTAL_RUN	17449689000
+MAP	READ	6619843000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	319431
+MAP	VALUE_BYTE_COUNT	134016531
+MAP	MAP	9976468000
+MAP	WRITE	4505925000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	662474000
+MAP	SERIALIZE_OUTPUT	1830000000
+MAP	MAP_MEM	214700248
+SPILL	SORT_AND_SPILL	15364140000
+SPILL	QUICK_SORT	13942844000
+SPILL	SORT_COUNT	803359
+SPILL	COMBINE	0
+SPILL	WRITE	1421296000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	26106299
+SPILL	COMPRESS_BYTE_COUNT	26106407
+MERGE	TOTAL_MERGE	1472000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	33854312000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00007	0
+MAP	STARTUP_MEM	215249472
+MAP	SETUP	528000
+MAP	SETUP_MEM	215249472
+MAP	CLEANUP	97000
+MAP	CLEANUP_MEM	219187992
+MAP	TOTAL_RUN	26173941666
+MAP	READ	7912626000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	79780
+MAP	VALUE_BYTE_COUNT	134171431
+MAP	MAP	18101119666
+MAP	WRITE	9121788666
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	2756760000
+MAP	SERIALIZE_OUTPUT	3123882666
+MAP	MAP_MEM	219187992
+SPILL	SORT_AND_SPILL	23269396000
+SPILL	QUICK_SORT	21559343000
+SPILL	SORT_COUNT	904949
+SPILL	COMBINE	0
+SPILL	WRITE	1710053000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	28234220
+SPILL	COMPRESS_BYTE_COUNT	28234328
+MERGE	TOTAL_MERGE	1954000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	49963036666
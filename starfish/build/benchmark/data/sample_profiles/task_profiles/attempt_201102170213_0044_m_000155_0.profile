@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00057	0
+MAP	STARTUP_MEM	214662768
+MAP	SETUP	428000
+MAP	SETUP_MEM	214662768
+MAP	CLEANUP	96000
+MAP	CLEANUP_MEM	213944904
+MAP	TOTAL_RUN	18687595000
+MAP	READ	5893604000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	323330
+MAP	VALUE_BYTE_COUNT	134091863
+MAP	MAP	12608281000
+MAP	WRITE	6251429000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1229019000
+MAP	SERIALIZE_OUTPUT	1804118000
+MAP	MAP_MEM	213944904
+SPILL	SORT_AND_SPILL	16419857000
+SPILL	QUICK_SORT	14915077000
+SPILL	SORT_COUNT	805310
+SPILL	COMBINE	0
+SPILL	WRITE	1504780000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	26360302
+SPILL	COMPRESS_BYTE_COUNT	26360410
+MERGE	TOTAL_MERGE	1430000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	35715667000
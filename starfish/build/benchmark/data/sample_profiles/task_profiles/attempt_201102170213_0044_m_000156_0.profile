@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00058	0
+MAP	STARTUP_MEM	214436000
+MAP	SETUP	973000
+MAP	SETUP_MEM	214436000
+MAP	CLEANUP	98000
+MAP	CLEANUP_MEM	241021608
+MAP	TOTAL_RUN	21632293000
+MAP	READ	6941217000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	318003
+MAP	VALUE_BYTE_COUNT	134046253
+MAP	MAP	14484515000
+MAP	WRITE	6085785000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1370560000
+MAP	SERIALIZE_OUTPUT	2026357000
+MAP	MAP_MEM	241021608
+SPILL	SORT_AND_SPILL	17682927000
+SPILL	QUICK_SORT	14790687000
+SPILL	SORT_COUNT	786320
+SPILL	COMBINE	0
+SPILL	WRITE	2892240000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	25755643
+SPILL	COMPRESS_BYTE_COUNT	25755751
+MERGE	TOTAL_MERGE	1574000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	40300965000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00073	0
+MAP	STARTUP_MEM	215970472
+MAP	SETUP	452000
+MAP	SETUP_MEM	215970472
+MAP	CLEANUP	102000
+MAP	CLEANUP_MEM	224806976
+MAP	TOTAL_RUN	19779761000
+MAP	READ	7136853000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	370293
+MAP	VALUE_BYTE_COUNT	134060260
+MAP	MAP	12391724000
+MAP	WRITE	5903641000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1147577000
+MAP	SERIALIZE_OUTPUT	2031722000
+MAP	MAP_MEM	225369136
+SPILL	SORT_AND_SPILL	22035090667
+SPILL	QUICK_SORT	20358647000
+SPILL	SORT_COUNT	800776
+SPILL	COMBINE	0
+SPILL	WRITE	1676443667
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	26309641
+SPILL	COMPRESS_BYTE_COUNT	26309749
+MERGE	TOTAL_MERGE	1828000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	45560447667
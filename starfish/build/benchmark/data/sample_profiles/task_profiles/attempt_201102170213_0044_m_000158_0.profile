@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00042	0
+MAP	STARTUP_MEM	215295784
+MAP	SETUP	491000
+MAP	SETUP_MEM	215295784
+MAP	CLEANUP	102000
+MAP	CLEANUP_MEM	221594944
+MAP	TOTAL_RUN	15219583000
+MAP	READ	5874814000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	264880
+MAP	VALUE_BYTE_COUNT	134099647
+MAP	MAP	9201634000
+MAP	WRITE	4383132000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	676831000
+MAP	SERIALIZE_OUTPUT	1738141000
+MAP	MAP_MEM	221594944
+SPILL	SORT_AND_SPILL	17124877000
+SPILL	QUICK_SORT	15588670000
+SPILL	SORT_COUNT	821123
+SPILL	COMBINE	0
+SPILL	WRITE	1536207000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	27255823
+SPILL	COMPRESS_BYTE_COUNT	27255931
+MERGE	TOTAL_MERGE	1559000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	32848485000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00041	0
+MAP	STARTUP_MEM	215539424
+MAP	SETUP	483000
+MAP	SETUP_MEM	215539424
+MAP	CLEANUP	94000
+MAP	CLEANUP_MEM	221519288
+MAP	TOTAL_RUN	24463679000
+MAP	READ	9847101000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	274841
+MAP	VALUE_BYTE_COUNT	134109542
+MAP	MAP	14466843000
+MAP	WRITE	6547757000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	874504000
+MAP	SERIALIZE_OUTPUT	2425299000
+MAP	MAP_MEM	221519288
+SPILL	SORT_AND_SPILL	21977674000
+SPILL	QUICK_SORT	19484212000
+SPILL	SORT_COUNT	823120
+SPILL	COMBINE	0
+SPILL	WRITE	2493462000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	27320209
+SPILL	COMPRESS_BYTE_COUNT	27320317
+MERGE	TOTAL_MERGE	1734000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	46936750000
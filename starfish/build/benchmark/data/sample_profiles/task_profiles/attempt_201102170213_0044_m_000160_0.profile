@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00067	0
+MAP	STARTUP_MEM	214584600
+MAP	SETUP	428000
+MAP	SETUP_MEM	214584600
+MAP	CLEANUP	108000
+MAP	CLEANUP_MEM	212364632
+MAP	TOTAL_RUN	18833541000
+MAP	READ	8144799000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	332997
+MAP	VALUE_BYTE_COUNT	134078052
+MAP	MAP	10448650000
+MAP	WRITE	5439641000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1199259000
+MAP	SERIALIZE_OUTPUT	1877077000
+MAP	MAP_MEM	212364632
+SPILL	SORT_AND_SPILL	23027858000
+SPILL	QUICK_SORT	21556368000
+SPILL	SORT_COUNT	798044
+SPILL	COMBINE	0
+SPILL	WRITE	1471490000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	26366358
+SPILL	COMPRESS_BYTE_COUNT	26366466
+MERGE	TOTAL_MERGE	1590000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	42485751000
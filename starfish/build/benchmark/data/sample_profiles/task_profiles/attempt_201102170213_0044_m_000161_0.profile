@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00066	0
+MAP	STARTUP_MEM	215271464
+MAP	SETUP	488000
+MAP	SETUP_MEM	215271464
+MAP	CLEANUP	94000
+MAP	CLEANUP_MEM	213253744
+MAP	TOTAL_RUN	17791149000
+MAP	READ	6314205000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	327607
+MAP	VALUE_BYTE_COUNT	134074020
+MAP	MAP	11259638000
+MAP	WRITE	5247390000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	866324000
+MAP	SERIALIZE_OUTPUT	1979230000
+MAP	MAP_MEM	213815904
+SPILL	SORT_AND_SPILL	17957176000
+SPILL	QUICK_SORT	16406810000
+SPILL	SORT_COUNT	781698
+SPILL	COMBINE	0
+SPILL	WRITE	1550366000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	25771743
+SPILL	COMPRESS_BYTE_COUNT	25771851
+MERGE	TOTAL_MERGE	1790000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	36260979000
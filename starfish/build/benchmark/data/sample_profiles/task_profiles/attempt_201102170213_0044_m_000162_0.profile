@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00059	0
+MAP	STARTUP_MEM	216081064
+MAP	SETUP	489000
+MAP	SETUP_MEM	216081064
+MAP	CLEANUP	86000
+MAP	CLEANUP_MEM	246876216
+MAP	TOTAL_RUN	17651109000
+MAP	READ	6029722000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	319935
+MAP	VALUE_BYTE_COUNT	134077277
+MAP	MAP	11443710000
+MAP	WRITE	4609469000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	784744000
+MAP	SERIALIZE_OUTPUT	1872099000
+MAP	MAP_MEM	246876216
+SPILL	SORT_AND_SPILL	19404346000
+SPILL	QUICK_SORT	17686011000
+SPILL	SORT_COUNT	800191
+SPILL	COMBINE	0
+SPILL	WRITE	1718335000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	26177217
+SPILL	COMPRESS_BYTE_COUNT	26177325
+MERGE	TOTAL_MERGE	129967000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	37741763000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00062	0
+MAP	STARTUP_MEM	216133712
+MAP	SETUP	481000
+MAP	SETUP_MEM	216133712
+MAP	CLEANUP	104000
+MAP	CLEANUP_MEM	246056848
+MAP	TOTAL_RUN	18406667000
+MAP	READ	6288332000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	332024
+MAP	VALUE_BYTE_COUNT	133983880
+MAP	MAP	11908520000
+MAP	WRITE	6146472000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	706797000
+MAP	SERIALIZE_OUTPUT	1770162000
+MAP	MAP_MEM	246056848
+SPILL	SORT_AND_SPILL	24781026000
+SPILL	QUICK_SORT	22675337000
+SPILL	SORT_COUNT	787583
+SPILL	COMBINE	0
+SPILL	WRITE	2105689000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	26229631
+SPILL	COMPRESS_BYTE_COUNT	26229739
+MERGE	TOTAL_MERGE	1621000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	43760259000
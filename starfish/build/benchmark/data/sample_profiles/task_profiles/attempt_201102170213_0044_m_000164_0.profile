@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00068	0
+MAP	STARTUP_MEM	216134520
+MAP	SETUP	475000
+MAP	SETUP_MEM	216134520
+MAP	CLEANUP	109000
+MAP	CLEANUP_MEM	213218136
+MAP	TOTAL_RUN	20373037000
+MAP	READ	5716515000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	356510
+MAP	VALUE_BYTE_COUNT	134097239
+MAP	MAP	13207864000
+MAP	WRITE	6638130000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	672054000
+MAP	SERIALIZE_OUTPUT	4295646000
+MAP	MAP_MEM	213218136
+SPILL	SORT_AND_SPILL	20064268315
+SPILL	QUICK_SORT	18661315000
+SPILL	SORT_COUNT	784820
+SPILL	COMBINE	0
+SPILL	WRITE	1402953315
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	25850762
+SPILL	COMPRESS_BYTE_COUNT	25850870
+MERGE	TOTAL_MERGE	1577000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	40923954315
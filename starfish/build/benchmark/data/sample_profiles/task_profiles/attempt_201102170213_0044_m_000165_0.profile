@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00071	0
+MAP	STARTUP_MEM	215299736
+MAP	SETUP	595000
+MAP	SETUP_MEM	215299736
+MAP	CLEANUP	103000
+MAP	CLEANUP_MEM	242887464
+MAP	TOTAL_RUN	19427435913
+MAP	READ	6625240913
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	381528
+MAP	VALUE_BYTE_COUNT	134122604
+MAP	MAP	12539756000
+MAP	WRITE	6483899000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	811860000
+MAP	SERIALIZE_OUTPUT	2928775000
+MAP	MAP_MEM	242887464
+SPILL	SORT_AND_SPILL	17394649000
+SPILL	QUICK_SORT	15447188000
+SPILL	SORT_COUNT	764186
+SPILL	COMBINE	0
+SPILL	WRITE	1947461000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	25160132
+SPILL	COMPRESS_BYTE_COUNT	25160240
+MERGE	TOTAL_MERGE	1530000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	37352146913
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00063	0
+MAP	STARTUP_MEM	214436032
+MAP	SETUP	430000
+MAP	SETUP_MEM	214436032
+MAP	CLEANUP	96000
+MAP	CLEANUP_MEM	234832144
+MAP	TOTAL_RUN	14997131000
+MAP	READ	5377691000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	344099
+MAP	VALUE_BYTE_COUNT	134074067
+MAP	MAP	9424889000
+MAP	WRITE	3970429000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	663491000
+MAP	SERIALIZE_OUTPUT	1624834000
+MAP	MAP_MEM	234832144
+SPILL	SORT_AND_SPILL	16543519000
+SPILL	QUICK_SORT	15139000000
+SPILL	SORT_COUNT	752330
+SPILL	COMBINE	0
+SPILL	WRITE	1404519000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	25054963
+SPILL	COMPRESS_BYTE_COUNT	25055071
+MERGE	TOTAL_MERGE	1428000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	32049839000
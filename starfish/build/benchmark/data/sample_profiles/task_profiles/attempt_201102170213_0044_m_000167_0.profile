@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00072	0
+MAP	STARTUP_MEM	214426432
+MAP	SETUP	417000
+MAP	SETUP_MEM	214426432
+MAP	CLEANUP	97000
+MAP	CLEANUP_MEM	228261568
+MAP	TOTAL_RUN	16403851000
+MAP	READ	5940845000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	356517
+MAP	VALUE_BYTE_COUNT	133994553
+MAP	MAP	10251185000
+MAP	WRITE	5325244000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	831736000
+MAP	SERIALIZE_OUTPUT	1598328000
+MAP	MAP_MEM	228261568
+SPILL	SORT_AND_SPILL	16376054000
+SPILL	QUICK_SORT	14575970000
+SPILL	SORT_COUNT	732552
+SPILL	COMBINE	0
+SPILL	WRITE	1800084000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	24175859
+SPILL	COMPRESS_BYTE_COUNT	24175967
+MERGE	TOTAL_MERGE	1446000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	33417059000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00060	0
+MAP	STARTUP_MEM	215190944
+MAP	SETUP	596000
+MAP	SETUP_MEM	215190944
+MAP	CLEANUP	158000
+MAP	CLEANUP_MEM	242463920
+MAP	TOTAL_RUN	23254479000
+MAP	READ	8937391000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	327096
+MAP	VALUE_BYTE_COUNT	134077665
+MAP	MAP	14094223000
+MAP	WRITE	7268901000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1185341000
+MAP	SERIALIZE_OUTPUT	2367917000
+MAP	MAP_MEM	242463920
+SPILL	SORT_AND_SPILL	19370733000
+SPILL	QUICK_SORT	17806425000
+SPILL	SORT_COUNT	792843
+SPILL	COMBINE	0
+SPILL	WRITE	1564308000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	26382115
+SPILL	COMPRESS_BYTE_COUNT	26382223
+MERGE	TOTAL_MERGE	1628000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	43218204000
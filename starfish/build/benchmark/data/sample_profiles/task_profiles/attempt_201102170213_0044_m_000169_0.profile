@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00053	0
+MAP	STARTUP_MEM	214424064
+MAP	SETUP	451000
+MAP	SETUP_MEM	214424064
+MAP	CLEANUP	104000
+MAP	CLEANUP_MEM	214715080
+MAP	TOTAL_RUN	19350450000
+MAP	READ	6774682000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	309645
+MAP	VALUE_BYTE_COUNT	134085197
+MAP	MAP	12307345000
+MAP	WRITE	5514595000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	996113000
+MAP	SERIALIZE_OUTPUT	2020173000
+MAP	MAP_MEM	214715080
+SPILL	SORT_AND_SPILL	19994677681
+SPILL	QUICK_SORT	18368554681
+SPILL	SORT_COUNT	820090
+SPILL	COMBINE	0
+SPILL	WRITE	1626123000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	27105266
+SPILL	COMPRESS_BYTE_COUNT	27105374
+MERGE	TOTAL_MERGE	1811000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	40036145681
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00069	0
+MAP	STARTUP_MEM	214426456
+MAP	SETUP	475000
+MAP	SETUP_MEM	214426456
+MAP	CLEANUP	101000
+MAP	CLEANUP_MEM	240423816
+MAP	TOTAL_RUN	20235153000
+MAP	READ	6586976000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	339710
+MAP	VALUE_BYTE_COUNT	134037092
+MAP	MAP	13461712000
+MAP	WRITE	4073012000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	667323000
+MAP	SERIALIZE_OUTPUT	1674680000
+MAP	MAP_MEM	240423816
+SPILL	SORT_AND_SPILL	16415760000
+SPILL	QUICK_SORT	14940497000
+SPILL	SORT_COUNT	752514
+SPILL	COMBINE	0
+SPILL	WRITE	1475263000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	24906688
+SPILL	COMPRESS_BYTE_COUNT	24906796
+MERGE	TOTAL_MERGE	1479000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	37377756000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00061	0
+MAP	STARTUP_MEM	216355840
+MAP	SETUP	506000
+MAP	SETUP_MEM	216355840
+MAP	CLEANUP	134000
+MAP	CLEANUP_MEM	241183176
+MAP	TOTAL_RUN	16910871000
+MAP	READ	6577867000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	321146
+MAP	VALUE_BYTE_COUNT	134171648
+MAP	MAP	10119530000
+MAP	WRITE	4656315000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1270834000
+MAP	SERIALIZE_OUTPUT	1715926000
+MAP	MAP_MEM	241183176
+SPILL	SORT_AND_SPILL	18179232000
+SPILL	QUICK_SORT	15710001000
+SPILL	SORT_COUNT	772514
+SPILL	COMBINE	0
+SPILL	WRITE	2469231000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	25363482
+SPILL	COMPRESS_BYTE_COUNT	25363590
+MERGE	TOTAL_MERGE	1564000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	35674292000
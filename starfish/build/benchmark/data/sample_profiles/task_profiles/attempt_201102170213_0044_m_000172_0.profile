@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00075	0
+MAP	STARTUP_MEM	215199456
+MAP	SETUP	739000
+MAP	SETUP_MEM	215199456
+MAP	CLEANUP	101000
+MAP	CLEANUP_MEM	239615976
+MAP	TOTAL_RUN	21881978000
+MAP	READ	6762122000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	371112
+MAP	VALUE_BYTE_COUNT	134059569
+MAP	MAP	14913796000
+MAP	WRITE	8378005000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	636802000
+MAP	SERIALIZE_OUTPUT	4473980000
+MAP	MAP_MEM	240178136
+SPILL	SORT_AND_SPILL	19684379000
+SPILL	QUICK_SORT	18162461000
+SPILL	SORT_COUNT	755923
+SPILL	COMBINE	0
+SPILL	WRITE	1521918000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	24861904
+SPILL	COMPRESS_BYTE_COUNT	24862012
+MERGE	TOTAL_MERGE	1471000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	42050644000
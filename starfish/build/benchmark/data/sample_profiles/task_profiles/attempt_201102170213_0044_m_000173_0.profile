@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00045	0
+MAP	STARTUP_MEM	214380040
+MAP	SETUP	447000
+MAP	SETUP_MEM	214380040
+MAP	CLEANUP	99000
+MAP	CLEANUP_MEM	213740008
+MAP	TOTAL_RUN	20299514000
+MAP	READ	8790901000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	286342
+MAP	VALUE_BYTE_COUNT	134102482
+MAP	MAP	11309693000
+MAP	WRITE	5697459000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	900205000
+MAP	SERIALIZE_OUTPUT	2099458000
+MAP	MAP_MEM	213740008
+SPILL	SORT_AND_SPILL	19981313000
+SPILL	QUICK_SORT	17532072000
+SPILL	SORT_COUNT	793355
+SPILL	COMBINE	0
+SPILL	WRITE	2449241000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	25849176
+SPILL	COMPRESS_BYTE_COUNT	25849284
+MERGE	TOTAL_MERGE	1760000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	40822972000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00027	0
+MAP	STARTUP_MEM	214415472
+MAP	SETUP	430000
+MAP	SETUP_MEM	214415472
+MAP	CLEANUP	99000
+MAP	CLEANUP_MEM	247136424
+MAP	TOTAL_RUN	15821306000
+MAP	READ	6494600000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	345552
+MAP	VALUE_BYTE_COUNT	134032817
+MAP	MAP	9113637000
+MAP	WRITE	4394819000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	716427000
+MAP	SERIALIZE_OUTPUT	1774979000
+MAP	MAP_MEM	247136424
+SPILL	SORT_AND_SPILL	18949549000
+SPILL	QUICK_SORT	17455554000
+SPILL	SORT_COUNT	826606
+SPILL	COMBINE	0
+SPILL	WRITE	1493995000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	25961207
+SPILL	COMPRESS_BYTE_COUNT	25961315
+MERGE	TOTAL_MERGE	1514000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	35271243000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00074	0
+MAP	STARTUP_MEM	215283224
+MAP	SETUP	975000
+MAP	SETUP_MEM	215283224
+MAP	CLEANUP	104000
+MAP	CLEANUP_MEM	244169496
+MAP	TOTAL_RUN	20367596681
+MAP	READ	8289462681
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	380324
+MAP	VALUE_BYTE_COUNT	134053576
+MAP	MAP	11819110000
+MAP	WRITE	5769156000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	988358000
+MAP	SERIALIZE_OUTPUT	1972418000
+MAP	MAP_MEM	244169496
+SPILL	SORT_AND_SPILL	18352111000
+SPILL	QUICK_SORT	16956325000
+SPILL	SORT_COUNT	769891
+SPILL	COMBINE	0
+SPILL	WRITE	1395786000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	25387573
+SPILL	COMPRESS_BYTE_COUNT	25387681
+MERGE	TOTAL_MERGE	1516000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	39336828681
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00076	0
+MAP	STARTUP_MEM	216321528
+MAP	SETUP	435000
+MAP	SETUP_MEM	216321528
+MAP	CLEANUP	104000
+MAP	CLEANUP_MEM	213067240
+MAP	TOTAL_RUN	18015651000
+MAP	READ	7742428000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	361109
+MAP	VALUE_BYTE_COUNT	134064002
+MAP	MAP	10082941000
+MAP	WRITE	4413524000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	807370000
+MAP	SERIALIZE_OUTPUT	1761051000
+MAP	MAP_MEM	213067240
+SPILL	SORT_AND_SPILL	18792914000
+SPILL	QUICK_SORT	17294738000
+SPILL	SORT_COUNT	783044
+SPILL	COMBINE	0
+SPILL	WRITE	1498176000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	25676997
+SPILL	COMPRESS_BYTE_COUNT	25677105
+MERGE	TOTAL_MERGE	1502000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	41104658000
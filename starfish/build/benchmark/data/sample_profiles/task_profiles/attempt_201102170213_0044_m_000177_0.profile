@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00052	0
+MAP	STARTUP_MEM	215252440
+MAP	SETUP	549000
+MAP	SETUP_MEM	215252440
+MAP	CLEANUP	99000
+MAP	CLEANUP_MEM	216306752
+MAP	TOTAL_RUN	21146410000
+MAP	READ	6035372000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	396627
+MAP	VALUE_BYTE_COUNT	134047741
+MAP	MAP	14886854000
+MAP	WRITE	7598427000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	712615000
+MAP	SERIALIZE_OUTPUT	2553616000
+MAP	MAP_MEM	216306752
+SPILL	SORT_AND_SPILL	17938201000
+SPILL	QUICK_SORT	16193190000
+SPILL	SORT_COUNT	779135
+SPILL	COMBINE	0
+SPILL	WRITE	1745011000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	26452277
+SPILL	COMPRESS_BYTE_COUNT	26452385
+MERGE	TOTAL_MERGE	1491000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	40889233000
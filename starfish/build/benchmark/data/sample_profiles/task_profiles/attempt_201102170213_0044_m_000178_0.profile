@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00064	0
+MAP	STARTUP_MEM	214682560
+MAP	SETUP	420000
+MAP	SETUP_MEM	214682560
+MAP	CLEANUP	101000
+MAP	CLEANUP_MEM	217103784
+MAP	TOTAL_RUN	15566567000
+MAP	READ	5550199000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	325829
+MAP	VALUE_BYTE_COUNT	134075306
+MAP	MAP	9842002000
+MAP	WRITE	4446028000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1052628000
+MAP	SERIALIZE_OUTPUT	1701286000
+MAP	MAP_MEM	217103784
+SPILL	SORT_AND_SPILL	18352827000
+SPILL	QUICK_SORT	16894442000
+SPILL	SORT_COUNT	796721
+SPILL	COMBINE	0
+SPILL	WRITE	1458385000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	26253011
+SPILL	COMPRESS_BYTE_COUNT	26253119
+MERGE	TOTAL_MERGE	1731000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	34373666000
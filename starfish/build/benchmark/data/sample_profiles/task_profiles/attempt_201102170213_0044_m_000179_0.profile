@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00065	0
+MAP	STARTUP_MEM	214479080
+MAP	SETUP	422000
+MAP	SETUP_MEM	214479080
+MAP	CLEANUP	90000
+MAP	CLEANUP_MEM	212574960
+MAP	TOTAL_RUN	16679185000
+MAP	READ	5522864000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	326480
+MAP	VALUE_BYTE_COUNT	134080056
+MAP	MAP	10529136000
+MAP	WRITE	5040768000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	728220000
+MAP	SERIALIZE_OUTPUT	2552317000
+MAP	MAP_MEM	213430600
+SPILL	SORT_AND_SPILL	20271923000
+SPILL	QUICK_SORT	18702052000
+SPILL	SORT_COUNT	781043
+SPILL	COMBINE	0
+SPILL	WRITE	1569871000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	25931141
+SPILL	COMPRESS_BYTE_COUNT	25931249
+MERGE	TOTAL_MERGE	1479000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	38465821000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00085	0
+MAP	STARTUP_MEM	214437888
+MAP	SETUP	463000
+MAP	SETUP_MEM	214437888
+MAP	CLEANUP	98000
+MAP	CLEANUP_MEM	228307520
+MAP	TOTAL_RUN	15701131315
+MAP	READ	6578356315
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	349909
+MAP	VALUE_BYTE_COUNT	134071491
+MAP	MAP	8906175000
+MAP	WRITE	3831400000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	625357000
+MAP	SERIALIZE_OUTPUT	1578793000
+MAP	MAP_MEM	228869680
+SPILL	SORT_AND_SPILL	16849913000
+SPILL	QUICK_SORT	15485759000
+SPILL	SORT_COUNT	730303
+SPILL	COMBINE	0
+SPILL	WRITE	1364154000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	24052531
+SPILL	COMPRESS_BYTE_COUNT	24052639
+MERGE	TOTAL_MERGE	1527000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	34508922315
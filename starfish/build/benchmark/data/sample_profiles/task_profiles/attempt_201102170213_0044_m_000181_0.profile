@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00070	0
+MAP	STARTUP_MEM	216104672
+MAP	SETUP	497000
+MAP	SETUP_MEM	216104672
+MAP	CLEANUP	107000
+MAP	CLEANUP_MEM	236713512
+MAP	TOTAL_RUN	16467957000
+MAP	READ	5645902000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	354102
+MAP	VALUE_BYTE_COUNT	134067622
+MAP	MAP	10628731000
+MAP	WRITE	4436203000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	746687000
+MAP	SERIALIZE_OUTPUT	1901313000
+MAP	MAP_MEM	236713512
+SPILL	SORT_AND_SPILL	16786207000
+SPILL	QUICK_SORT	15363386000
+SPILL	SORT_COUNT	764828
+SPILL	COMBINE	0
+SPILL	WRITE	1422821000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	25303353
+SPILL	COMPRESS_BYTE_COUNT	25303461
+MERGE	TOTAL_MERGE	1566000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	33807059000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00079	0
+MAP	STARTUP_MEM	215279480
+MAP	SETUP	502000
+MAP	SETUP_MEM	215279480
+MAP	CLEANUP	104000
+MAP	CLEANUP_MEM	233349328
+MAP	TOTAL_RUN	19175646000
+MAP	READ	5735562000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	362047
+MAP	VALUE_BYTE_COUNT	134058087
+MAP	MAP	13179093000
+MAP	WRITE	4340232000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	623252000
+MAP	SERIALIZE_OUTPUT	1744355000
+MAP	MAP_MEM	233349328
+SPILL	SORT_AND_SPILL	21533511000
+SPILL	QUICK_SORT	20015947000
+SPILL	SORT_COUNT	748192
+SPILL	COMBINE	0
+SPILL	WRITE	1517564000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	24893066
+SPILL	COMPRESS_BYTE_COUNT	24893174
+MERGE	TOTAL_MERGE	1521000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	41201865000
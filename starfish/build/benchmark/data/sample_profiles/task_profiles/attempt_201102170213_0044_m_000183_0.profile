@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00089	0
+MAP	STARTUP_MEM	215274840
+MAP	SETUP	490000
+MAP	SETUP_MEM	215274840
+MAP	CLEANUP	112000
+MAP	CLEANUP_MEM	238731728
+MAP	TOTAL_RUN	15345441000
+MAP	READ	5768440000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	378294
+MAP	VALUE_BYTE_COUNT	134037058
+MAP	MAP	9365853000
+MAP	WRITE	4221152000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	646903000
+MAP	SERIALIZE_OUTPUT	1918160000
+MAP	MAP_MEM	238731728
+SPILL	SORT_AND_SPILL	17563628000
+SPILL	QUICK_SORT	15682605000
+SPILL	SORT_COUNT	762731
+SPILL	COMBINE	0
+SPILL	WRITE	1881023000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	25438762
+SPILL	COMPRESS_BYTE_COUNT	25438870
+MERGE	TOTAL_MERGE	1653000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	34033199000
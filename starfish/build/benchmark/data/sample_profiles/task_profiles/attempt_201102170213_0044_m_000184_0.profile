@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00077	0
+MAP	STARTUP_MEM	214439600
+MAP	SETUP	420000
+MAP	SETUP_MEM	214439600
+MAP	CLEANUP	101000
+MAP	CLEANUP_MEM	229558200
+MAP	TOTAL_RUN	14913183000
+MAP	READ	5807819000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	361746
+MAP	VALUE_BYTE_COUNT	134301619
+MAP	MAP	8912268000
+MAP	WRITE	4196339000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	756084000
+MAP	SERIALIZE_OUTPUT	1779606000
+MAP	MAP_MEM	229558200
+SPILL	SORT_AND_SPILL	16401699000
+SPILL	QUICK_SORT	15036402000
+SPILL	SORT_COUNT	738857
+SPILL	COMBINE	0
+SPILL	WRITE	1365297000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	24082384
+SPILL	COMPRESS_BYTE_COUNT	24082492
+MERGE	TOTAL_MERGE	1479000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	31847833000
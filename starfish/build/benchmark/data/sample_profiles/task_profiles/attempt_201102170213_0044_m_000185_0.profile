@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00080	0
+MAP	STARTUP_MEM	214402712
+MAP	SETUP	438000
+MAP	SETUP_MEM	214402712
+MAP	CLEANUP	96000
+MAP	CLEANUP_MEM	217905536
+MAP	TOTAL_RUN	18894377000
+MAP	READ	7578232000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	349517
+MAP	VALUE_BYTE_COUNT	134066135
+MAP	MAP	11123224000
+MAP	WRITE	5647861000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1637098000
+MAP	SERIALIZE_OUTPUT	1766343000
+MAP	MAP_MEM	218761176
+SPILL	SORT_AND_SPILL	16363057000
+SPILL	QUICK_SORT	14705721000
+SPILL	SORT_COUNT	720814
+SPILL	COMBINE	0
+SPILL	WRITE	1657336000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	23868741
+SPILL	COMPRESS_BYTE_COUNT	23868849
+MERGE	TOTAL_MERGE	1588000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	35838406000
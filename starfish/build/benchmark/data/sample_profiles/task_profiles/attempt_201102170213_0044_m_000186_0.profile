@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00078	0
+MAP	STARTUP_MEM	216139344
+MAP	SETUP	507000
+MAP	SETUP_MEM	216139344
+MAP	CLEANUP	94000
+MAP	CLEANUP_MEM	226903896
+MAP	TOTAL_RUN	15402226000
+MAP	READ	5732855000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	340557
+MAP	VALUE_BYTE_COUNT	133837543
+MAP	MAP	9487404000
+MAP	WRITE	4192190000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	666034000
+MAP	SERIALIZE_OUTPUT	1682924000
+MAP	MAP_MEM	227759536
+SPILL	SORT_AND_SPILL	16743103000
+SPILL	QUICK_SORT	14453767000
+SPILL	SORT_COUNT	754636
+SPILL	COMBINE	0
+SPILL	WRITE	2289336000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	25023385
+SPILL	COMPRESS_BYTE_COUNT	25023493
+MERGE	TOTAL_MERGE	1512000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	32614508000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00091	0
+MAP	STARTUP_MEM	215322992
+MAP	SETUP	599000
+MAP	SETUP_MEM	215322992
+MAP	CLEANUP	105000
+MAP	CLEANUP_MEM	238089264
+MAP	TOTAL_RUN	19143299667
+MAP	READ	7447986000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	390425
+MAP	VALUE_BYTE_COUNT	134050235
+MAP	MAP	11416610667
+MAP	WRITE	4957319667
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	920158000
+MAP	SERIALIZE_OUTPUT	1843356667
+MAP	MAP_MEM	238089264
+SPILL	SORT_AND_SPILL	19234844000
+SPILL	QUICK_SORT	17844812000
+SPILL	SORT_COUNT	724217
+SPILL	COMBINE	0
+SPILL	WRITE	1390032000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	24026397
+SPILL	COMPRESS_BYTE_COUNT	24026505
+MERGE	TOTAL_MERGE	1544000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	39089960667
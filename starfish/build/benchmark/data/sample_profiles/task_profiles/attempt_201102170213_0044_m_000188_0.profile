@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00096	0
+MAP	STARTUP_MEM	215291888
+MAP	SETUP	552000
+MAP	SETUP_MEM	215291888
+MAP	CLEANUP	115000
+MAP	CLEANUP_MEM	230372608
+MAP	TOTAL_RUN	17864403000
+MAP	READ	6867755000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	362901
+MAP	VALUE_BYTE_COUNT	134064174
+MAP	MAP	10644077000
+MAP	WRITE	5651193000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	896875000
+MAP	SERIALIZE_OUTPUT	1861071000
+MAP	MAP_MEM	230372608
+SPILL	SORT_AND_SPILL	17726040000
+SPILL	QUICK_SORT	16342433000
+SPILL	SORT_COUNT	727182
+SPILL	COMBINE	0
+SPILL	WRITE	1383607000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	24360829
+SPILL	COMPRESS_BYTE_COUNT	24360937
+MERGE	TOTAL_MERGE	3162000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	36496051000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00090	0
+MAP	STARTUP_MEM	215318096
+MAP	SETUP	490000
+MAP	SETUP_MEM	215318096
+MAP	CLEANUP	107000
+MAP	CLEANUP_MEM	236852200
+MAP	TOTAL_RUN	18648777000
+MAP	READ	5964980000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	385280
+MAP	VALUE_BYTE_COUNT	134050401
+MAP	MAP	12367726000
+MAP	WRITE	5599810000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1534773000
+MAP	SERIALIZE_OUTPUT	1876077000
+MAP	MAP_MEM	237414360
+SPILL	SORT_AND_SPILL	17636498000
+SPILL	QUICK_SORT	16255636000
+SPILL	SORT_COUNT	746678
+SPILL	COMBINE	0
+SPILL	WRITE	1380862000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	24694952
+SPILL	COMPRESS_BYTE_COUNT	24695060
+MERGE	TOTAL_MERGE	1748000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	36932934000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00097	0
+MAP	STARTUP_MEM	216137744
+MAP	SETUP	469000
+MAP	SETUP_MEM	216137744
+MAP	CLEANUP	445000
+MAP	CLEANUP_MEM	214913752
+MAP	TOTAL_RUN	16689199000
+MAP	READ	5384728000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	381423
+MAP	VALUE_BYTE_COUNT	134051840
+MAP	MAP	11046756000
+MAP	WRITE	4460306000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	769394000
+MAP	SERIALIZE_OUTPUT	1925147000
+MAP	MAP_MEM	214913752
+SPILL	SORT_AND_SPILL	20106472000
+SPILL	QUICK_SORT	16043197000
+SPILL	SORT_COUNT	768985
+SPILL	COMBINE	0
+SPILL	WRITE	4063275000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	25938378
+SPILL	COMPRESS_BYTE_COUNT	25938486
+MERGE	TOTAL_MERGE	1437000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	37243072000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00088	0
+MAP	STARTUP_MEM	214471256
+MAP	SETUP	490000
+MAP	SETUP_MEM	214471256
+MAP	CLEANUP	110000
+MAP	CLEANUP_MEM	218030896
+MAP	TOTAL_RUN	16684142000
+MAP	READ	6161800000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	368725
+MAP	VALUE_BYTE_COUNT	134022324
+MAP	MAP	10322104000
+MAP	WRITE	4258108000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	647005000
+MAP	SERIALIZE_OUTPUT	1570988000
+MAP	MAP_MEM	218030896
+SPILL	SORT_AND_SPILL	18127303000
+SPILL	QUICK_SORT	16672831000
+SPILL	SORT_COUNT	716188
+SPILL	COMBINE	0
+SPILL	WRITE	1454472000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	23899253
+SPILL	COMPRESS_BYTE_COUNT	23899361
+MERGE	TOTAL_MERGE	1630000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	35366914000
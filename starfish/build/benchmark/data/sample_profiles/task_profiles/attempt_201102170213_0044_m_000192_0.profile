@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00084	0
+MAP	STARTUP_MEM	215269464
+MAP	SETUP	640000
+MAP	SETUP_MEM	215269464
+MAP	CLEANUP	95000
+MAP	CLEANUP_MEM	231121384
+MAP	TOTAL_RUN	16857512000
+MAP	READ	5703299000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	364546
+MAP	VALUE_BYTE_COUNT	134061676
+MAP	MAP	10943223000
+MAP	WRITE	5137374000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	650007000
+MAP	SERIALIZE_OUTPUT	1686481000
+MAP	MAP_MEM	231121384
+SPILL	SORT_AND_SPILL	18446203000
+SPILL	QUICK_SORT	15118499000
+SPILL	SORT_COUNT	740901
+SPILL	COMBINE	0
+SPILL	WRITE	3327704000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	24247871
+SPILL	COMPRESS_BYTE_COUNT	24247979
+MERGE	TOTAL_MERGE	1604000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	36248164000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00093	0
+MAP	STARTUP_MEM	215291480
+MAP	SETUP	531000
+MAP	SETUP_MEM	215291480
+MAP	CLEANUP	106000
+MAP	CLEANUP_MEM	238084928
+MAP	TOTAL_RUN	17839279000
+MAP	READ	6366544000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	394142
+MAP	VALUE_BYTE_COUNT	134050747
+MAP	MAP	11191338000
+MAP	WRITE	5212120000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	963381000
+MAP	SERIALIZE_OUTPUT	1948065000
+MAP	MAP_MEM	238084928
+SPILL	SORT_AND_SPILL	23124571887
+SPILL	QUICK_SORT	16780685000
+SPILL	SORT_COUNT	726210
+SPILL	COMBINE	0
+SPILL	WRITE	6343886887
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	24276019
+SPILL	COMPRESS_BYTE_COUNT	24276127
+MERGE	TOTAL_MERGE	1738000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	41737048887
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00087	0
+MAP	STARTUP_MEM	215252232
+MAP	SETUP	599000
+MAP	SETUP_MEM	215252232
+MAP	CLEANUP	105000
+MAP	CLEANUP_MEM	236537480
+MAP	TOTAL_RUN	20333330000
+MAP	READ	6271143000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	401373
+MAP	VALUE_BYTE_COUNT	134103383
+MAP	MAP	13724158000
+MAP	WRITE	6432193000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	2292889000
+MAP	SERIALIZE_OUTPUT	1869247000
+MAP	MAP_MEM	236537480
+SPILL	SORT_AND_SPILL	33160872000
+SPILL	QUICK_SORT	30117411000
+SPILL	SORT_COUNT	748655
+SPILL	COMBINE	0
+SPILL	WRITE	3043461000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	25146559
+SPILL	COMPRESS_BYTE_COUNT	25146667
+MERGE	TOTAL_MERGE	1848000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	54136241000
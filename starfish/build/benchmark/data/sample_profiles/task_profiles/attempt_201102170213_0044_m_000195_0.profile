@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00100	0
+MAP	STARTUP_MEM	216131832
+MAP	SETUP	905000
+MAP	SETUP_MEM	216131832
+MAP	CLEANUP	108000
+MAP	CLEANUP_MEM	233734776
+MAP	TOTAL_RUN	19390906000
+MAP	READ	6847959000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	393414
+MAP	VALUE_BYTE_COUNT	134014442
+MAP	MAP	12327596000
+MAP	WRITE	4571230000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	662972000
+MAP	SERIALIZE_OUTPUT	1728002000
+MAP	MAP_MEM	233734776
+SPILL	SORT_AND_SPILL	23475171000
+SPILL	QUICK_SORT	20593385000
+SPILL	SORT_COUNT	723553
+SPILL	COMBINE	0
+SPILL	WRITE	2881786000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	24713431
+SPILL	COMPRESS_BYTE_COUNT	24713539
+MERGE	TOTAL_MERGE	1504000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	43474583000
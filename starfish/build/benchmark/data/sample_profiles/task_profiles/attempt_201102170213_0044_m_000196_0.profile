@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00082	0
+MAP	STARTUP_MEM	216120848
+MAP	SETUP	483000
+MAP	SETUP_MEM	216120848
+MAP	CLEANUP	89000
+MAP	CLEANUP_MEM	227560184
+MAP	TOTAL_RUN	15065450000
+MAP	READ	5738735000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	371938
+MAP	VALUE_BYTE_COUNT	133988149
+MAP	MAP	9129999000
+MAP	WRITE	4216305000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	650792000
+MAP	SERIALIZE_OUTPUT	1598736000
+MAP	MAP_MEM	227560184
+SPILL	SORT_AND_SPILL	24019792000
+SPILL	QUICK_SORT	21984973000
+SPILL	SORT_COUNT	726018
+SPILL	COMBINE	0
+SPILL	WRITE	2034819000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	23826439
+SPILL	COMPRESS_BYTE_COUNT	23826547
+MERGE	TOTAL_MERGE	1434000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	39976367000
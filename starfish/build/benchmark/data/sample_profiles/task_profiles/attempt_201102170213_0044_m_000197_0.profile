@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00086	0
+MAP	STARTUP_MEM	215282840
+MAP	SETUP	489000
+MAP	SETUP_MEM	215282840
+MAP	CLEANUP	95000
+MAP	CLEANUP_MEM	242369016
+MAP	TOTAL_RUN	19048278000
+MAP	READ	5844381000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	419636
+MAP	VALUE_BYTE_COUNT	134033164
+MAP	MAP	12890091000
+MAP	WRITE	5516724000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	954516000
+MAP	SERIALIZE_OUTPUT	1880637000
+MAP	MAP_MEM	242369016
+SPILL	SORT_AND_SPILL	18668424041
+SPILL	QUICK_SORT	15772702041
+SPILL	SORT_COUNT	768892
+SPILL	COMBINE	0
+SPILL	WRITE	2895722000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	25719144
+SPILL	COMPRESS_BYTE_COUNT	25719252
+MERGE	TOTAL_MERGE	1560000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	38282401041
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00102	0
+MAP	STARTUP_MEM	216087304
+MAP	SETUP	554000
+MAP	SETUP_MEM	216087304
+MAP	CLEANUP	104000
+MAP	CLEANUP_MEM	224224752
+MAP	TOTAL_RUN	18304470000
+MAP	READ	6839061000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	376796
+MAP	VALUE_BYTE_COUNT	134053443
+MAP	MAP	11219798000
+MAP	WRITE	5923288000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	726504000
+MAP	SERIALIZE_OUTPUT	2154402000
+MAP	MAP_MEM	224224752
+SPILL	SORT_AND_SPILL	19638172000
+SPILL	QUICK_SORT	18362802000
+SPILL	SORT_COUNT	698894
+SPILL	COMBINE	0
+SPILL	WRITE	1275370000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	23974699
+SPILL	COMPRESS_BYTE_COUNT	23974807
+MERGE	TOTAL_MERGE	1501000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	38473712000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00099	0
+MAP	STARTUP_MEM	215312368
+MAP	SETUP	577000
+MAP	SETUP_MEM	215312368
+MAP	CLEANUP	93000
+MAP	CLEANUP_MEM	233616728
+MAP	TOTAL_RUN	19159233041
+MAP	READ	5556479041
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	383236
+MAP	VALUE_BYTE_COUNT	134048683
+MAP	MAP	10793690000
+MAP	WRITE	4637557000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	894810000
+MAP	SERIALIZE_OUTPUT	1703395000
+MAP	MAP_MEM	233616728
+SPILL	SORT_AND_SPILL	16852210000
+SPILL	QUICK_SORT	15079026000
+SPILL	SORT_COUNT	716288
+SPILL	COMBINE	0
+SPILL	WRITE	1773184000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	24212105
+SPILL	COMPRESS_BYTE_COUNT	24212213
+MERGE	TOTAL_MERGE	1935000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	36513790041
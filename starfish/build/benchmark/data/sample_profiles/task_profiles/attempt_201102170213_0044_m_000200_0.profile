@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00095	0
+MAP	STARTUP_MEM	215275840
+MAP	SETUP	467000
+MAP	SETUP_MEM	215275840
+MAP	CLEANUP	104000
+MAP	CLEANUP_MEM	240603520
+MAP	TOTAL_RUN	15702354000
+MAP	READ	5590923000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	359485
+MAP	VALUE_BYTE_COUNT	134064567
+MAP	MAP	9862932000
+MAP	WRITE	5264597000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	604643000
+MAP	SERIALIZE_OUTPUT	1713830000
+MAP	MAP_MEM	240603520
+SPILL	SORT_AND_SPILL	18358761000
+SPILL	QUICK_SORT	16957733000
+SPILL	SORT_COUNT	739263
+SPILL	COMBINE	0
+SPILL	WRITE	1401028000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	24877629
+SPILL	COMPRESS_BYTE_COUNT	24877737
+MERGE	TOTAL_MERGE	1434000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	34502410000
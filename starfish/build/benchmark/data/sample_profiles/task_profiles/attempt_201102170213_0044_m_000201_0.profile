@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00098	0
+MAP	STARTUP_MEM	214417616
+MAP	SETUP	424000
+MAP	SETUP_MEM	214417616
+MAP	CLEANUP	111000
+MAP	CLEANUP_MEM	226763576
+MAP	TOTAL_RUN	20732560000
+MAP	READ	6654292000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	369061
+MAP	VALUE_BYTE_COUNT	134099556
+MAP	MAP	13865952000
+MAP	WRITE	8699115000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	676509000
+MAP	SERIALIZE_OUTPUT	1730120000
+MAP	MAP_MEM	226763576
+SPILL	SORT_AND_SPILL	21216135000
+SPILL	QUICK_SORT	18820474000
+SPILL	SORT_COUNT	701133
+SPILL	COMBINE	0
+SPILL	WRITE	2395661000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	23532950
+SPILL	COMPRESS_BYTE_COUNT	23533058
+MERGE	TOTAL_MERGE	1457000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	44832346000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00101	0
+MAP	STARTUP_MEM	215230752
+MAP	SETUP	480000
+MAP	SETUP_MEM	215230752
+MAP	CLEANUP	90000
+MAP	CLEANUP_MEM	245724024
+MAP	TOTAL_RUN	14385936000
+MAP	READ	5331787000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	362838
+MAP	VALUE_BYTE_COUNT	134066087
+MAP	MAP	8800241000
+MAP	WRITE	3567548000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	612252000
+MAP	SERIALIZE_OUTPUT	1447091000
+MAP	MAP_MEM	245724024
+SPILL	SORT_AND_SPILL	17577097000
+SPILL	QUICK_SORT	14251021000
+SPILL	SORT_COUNT	676531
+SPILL	COMBINE	0
+SPILL	WRITE	3326076000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	22850785
+SPILL	COMPRESS_BYTE_COUNT	22850893
+MERGE	TOTAL_MERGE	1749000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	35100115000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00104	0
+MAP	STARTUP_MEM	214383520
+MAP	SETUP	417000
+MAP	SETUP_MEM	214383520
+MAP	CLEANUP	91000
+MAP	CLEANUP_MEM	222396472
+MAP	TOTAL_RUN	16373180000
+MAP	READ	6489010000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	371987
+MAP	VALUE_BYTE_COUNT	134055887
+MAP	MAP	9637490000
+MAP	WRITE	4462898000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	806190000
+MAP	SERIALIZE_OUTPUT	1953467000
+MAP	MAP_MEM	222396472
+SPILL	SORT_AND_SPILL	24540557000
+SPILL	QUICK_SORT	22135619000
+SPILL	SORT_COUNT	697663
+SPILL	COMBINE	0
+SPILL	WRITE	2404938000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	24003944
+SPILL	COMPRESS_BYTE_COUNT	24004052
+MERGE	TOTAL_MERGE	1648000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	41981184000
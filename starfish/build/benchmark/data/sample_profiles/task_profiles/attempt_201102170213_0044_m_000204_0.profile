@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00094	0
+MAP	STARTUP_MEM	214663016
+MAP	SETUP	604000
+MAP	SETUP_MEM	214663016
+MAP	CLEANUP	130000
+MAP	CLEANUP_MEM	234789984
+MAP	TOTAL_RUN	18406538000
+MAP	READ	5803912000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	386183
+MAP	VALUE_BYTE_COUNT	134047529
+MAP	MAP	12361826000
+MAP	WRITE	6370910000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	809148000
+MAP	SERIALIZE_OUTPUT	2654679000
+MAP	MAP_MEM	234789984
+SPILL	SORT_AND_SPILL	20274544000
+SPILL	QUICK_SORT	16859119000
+SPILL	SORT_COUNT	715311
+SPILL	COMBINE	0
+SPILL	WRITE	3415425000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	23913011
+SPILL	COMPRESS_BYTE_COUNT	23913119
+MERGE	TOTAL_MERGE	1552000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	39270127000
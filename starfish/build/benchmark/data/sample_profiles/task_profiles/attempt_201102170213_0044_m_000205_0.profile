@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00103	0
+MAP	STARTUP_MEM	215326720
+MAP	SETUP	515000
+MAP	SETUP_MEM	215326720
+MAP	CLEANUP	98000
+MAP	CLEANUP_MEM	226262728
+MAP	TOTAL_RUN	14733558000
+MAP	READ	5943593000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	380485
+MAP	VALUE_BYTE_COUNT	134057164
+MAP	MAP	8587525000
+MAP	WRITE	3636462000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	610506000
+MAP	SERIALIZE_OUTPUT	1527583000
+MAP	MAP_MEM	226262728
+SPILL	SORT_AND_SPILL	16524742000
+SPILL	QUICK_SORT	15218724000
+SPILL	SORT_COUNT	712265
+SPILL	COMBINE	0
+SPILL	WRITE	1306018000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	24673403
+SPILL	COMPRESS_BYTE_COUNT	24673511
+MERGE	TOTAL_MERGE	1489000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	31961248000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00105	0
+MAP	STARTUP_MEM	216109984
+MAP	SETUP	499000
+MAP	SETUP_MEM	216109984
+MAP	CLEANUP	110000
+MAP	CLEANUP_MEM	237701536
+MAP	TOTAL_RUN	16619394000
+MAP	READ	5732736000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	371301
+MAP	VALUE_BYTE_COUNT	134118415
+MAP	MAP	10687114000
+MAP	WRITE	5299528000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1933945000
+MAP	SERIALIZE_OUTPUT	1553004000
+MAP	MAP_MEM	237701536
+SPILL	SORT_AND_SPILL	17626023000
+SPILL	QUICK_SORT	16248704000
+SPILL	SORT_COUNT	729610
+SPILL	COMBINE	0
+SPILL	WRITE	1377319000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	25296390
+SPILL	COMPRESS_BYTE_COUNT	25296498
+MERGE	TOTAL_MERGE	1518000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	34724681000
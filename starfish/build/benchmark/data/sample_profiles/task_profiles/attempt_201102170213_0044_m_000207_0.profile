@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00083	0
+MAP	STARTUP_MEM	214474248
+MAP	SETUP	435000
+MAP	SETUP_MEM	214474248
+MAP	CLEANUP	96000
+MAP	CLEANUP_MEM	218522608
+MAP	TOTAL_RUN	20811208000
+MAP	READ	7304575000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	353332
+MAP	VALUE_BYTE_COUNT	134065894
+MAP	MAP	13299520000
+MAP	WRITE	7504680000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	920503000
+MAP	SERIALIZE_OUTPUT	2172561000
+MAP	MAP_MEM	218522608
+SPILL	SORT_AND_SPILL	17563041000
+SPILL	QUICK_SORT	14861334000
+SPILL	SORT_COUNT	716622
+SPILL	COMBINE	0
+SPILL	WRITE	2701707000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	23266736
+SPILL	COMPRESS_BYTE_COUNT	23266844
+MERGE	TOTAL_MERGE	1498000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	40986330000
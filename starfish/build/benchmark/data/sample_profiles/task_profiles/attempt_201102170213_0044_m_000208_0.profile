@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00106	0
+MAP	STARTUP_MEM	215326712
+MAP	SETUP	487000
+MAP	SETUP_MEM	215326712
+MAP	CLEANUP	91000
+MAP	CLEANUP_MEM	242413360
+MAP	TOTAL_RUN	21031021000
+MAP	READ	6908743000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	349559
+MAP	VALUE_BYTE_COUNT	134009637
+MAP	MAP	13503900000
+MAP	WRITE	5965695000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	769231000
+MAP	SERIALIZE_OUTPUT	1670357000
+MAP	MAP_MEM	242413360
+SPILL	SORT_AND_SPILL	25805752000
+SPILL	QUICK_SORT	22039632000
+SPILL	SORT_COUNT	779668
+SPILL	COMBINE	0
+SPILL	WRITE	3766120000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	26557476
+SPILL	COMPRESS_BYTE_COUNT	26557584
+MERGE	TOTAL_MERGE	1443000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	47387791000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00081	0
+MAP	STARTUP_MEM	215329952
+MAP	SETUP	562000
+MAP	SETUP_MEM	215329952
+MAP	CLEANUP	103000
+MAP	CLEANUP_MEM	241465904
+MAP	TOTAL_RUN	17030443000
+MAP	READ	5188214000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	328006
+MAP	VALUE_BYTE_COUNT	134148872
+MAP	MAP	11621651000
+MAP	WRITE	4987908000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1142417000
+MAP	SERIALIZE_OUTPUT	1649662000
+MAP	MAP_MEM	241465904
+SPILL	SORT_AND_SPILL	15041700000
+SPILL	QUICK_SORT	13776350000
+SPILL	SORT_COUNT	684951
+SPILL	COMBINE	0
+SPILL	WRITE	1265350000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	22538259
+SPILL	COMPRESS_BYTE_COUNT	22538367
+MERGE	TOTAL_MERGE	1609000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	32578381000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00108	0
+MAP	STARTUP_MEM	216116264
+MAP	SETUP	636000
+MAP	SETUP_MEM	216116264
+MAP	CLEANUP	109000
+MAP	CLEANUP_MEM	219042000
+MAP	TOTAL_RUN	16490963000
+MAP	READ	6936798000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	367808
+MAP	VALUE_BYTE_COUNT	134059973
+MAP	MAP	9339260000
+MAP	WRITE	3862760000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	673088000
+MAP	SERIALIZE_OUTPUT	1568442000
+MAP	MAP_MEM	219042000
+SPILL	SORT_AND_SPILL	17089158000
+SPILL	QUICK_SORT	15648755000
+SPILL	SORT_COUNT	697258
+SPILL	COMBINE	0
+SPILL	WRITE	1440403000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	23873317
+SPILL	COMPRESS_BYTE_COUNT	23873425
+MERGE	TOTAL_MERGE	1452000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	34300357000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00109	0
+MAP	STARTUP_MEM	214398352
+MAP	SETUP	438000
+MAP	SETUP_MEM	214398352
+MAP	CLEANUP	91000
+MAP	CLEANUP_MEM	228730800
+MAP	TOTAL_RUN	24322953000
+MAP	READ	9530882000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	369789
+MAP	VALUE_BYTE_COUNT	134059179
+MAP	MAP	14502178000
+MAP	WRITE	7027563000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	683713000
+MAP	SERIALIZE_OUTPUT	3455556000
+MAP	MAP_MEM	228730800
+SPILL	SORT_AND_SPILL	40148596000
+SPILL	QUICK_SORT	36230541000
+SPILL	SORT_COUNT	793023
+SPILL	COMBINE	0
+SPILL	WRITE	3918055000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	26810254
+SPILL	COMPRESS_BYTE_COUNT	26810362
+MERGE	TOTAL_MERGE	1823000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	65811007000
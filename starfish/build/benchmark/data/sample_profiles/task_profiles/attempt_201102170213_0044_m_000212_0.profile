@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00092	0
+MAP	STARTUP_MEM	215326824
+MAP	SETUP	614000
+MAP	SETUP_MEM	215326824
+MAP	CLEANUP	102000
+MAP	CLEANUP_MEM	212420152
+MAP	TOTAL_RUN	17020078000
+MAP	READ	6429817000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	382879
+MAP	VALUE_BYTE_COUNT	134056574
+MAP	MAP	10327395000
+MAP	WRITE	5130993000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	827479000
+MAP	SERIALIZE_OUTPUT	1692872000
+MAP	MAP_MEM	212982312
+SPILL	SORT_AND_SPILL	29908416000
+SPILL	QUICK_SORT	26185920000
+SPILL	SORT_COUNT	686329
+SPILL	COMBINE	0
+SPILL	WRITE	3722496000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	22991033
+SPILL	COMPRESS_BYTE_COUNT	22991141
+MERGE	TOTAL_MERGE	1953000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	47719972000
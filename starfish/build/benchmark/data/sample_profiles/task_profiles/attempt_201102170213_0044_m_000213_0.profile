@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00112	0
+MAP	STARTUP_MEM	214451160
+MAP	SETUP	762000
+MAP	SETUP_MEM	214451160
+MAP	CLEANUP	95000
+MAP	CLEANUP_MEM	222832464
+MAP	TOTAL_RUN	17130797000
+MAP	READ	6522757000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	359674
+MAP	VALUE_BYTE_COUNT	134063100
+MAP	MAP	10368193000
+MAP	WRITE	4489459000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	817965000
+MAP	SERIALIZE_OUTPUT	1641631000
+MAP	MAP_MEM	222832464
+SPILL	SORT_AND_SPILL	17650108887
+SPILL	QUICK_SORT	16347817887
+SPILL	SORT_COUNT	696078
+SPILL	COMBINE	0
+SPILL	WRITE	1302291000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	24021301
+SPILL	COMPRESS_BYTE_COUNT	24021409
+MERGE	TOTAL_MERGE	1694000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	35769881887
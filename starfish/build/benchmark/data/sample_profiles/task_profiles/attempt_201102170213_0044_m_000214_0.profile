@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00110	0
+MAP	STARTUP_MEM	215516832
+MAP	SETUP	646000
+MAP	SETUP_MEM	215516832
+MAP	CLEANUP	116000
+MAP	CLEANUP_MEM	217579184
+MAP	TOTAL_RUN	15443448000
+MAP	READ	6129969000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	366212
+MAP	VALUE_BYTE_COUNT	134081384
+MAP	MAP	9120390000
+MAP	WRITE	4043987000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	604094000
+MAP	SERIALIZE_OUTPUT	1536052000
+MAP	MAP_MEM	217579184
+SPILL	SORT_AND_SPILL	14842765000
+SPILL	QUICK_SORT	13606876000
+SPILL	SORT_COUNT	686669
+SPILL	COMBINE	0
+SPILL	WRITE	1235889000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	23736813
+SPILL	COMPRESS_BYTE_COUNT	23736921
+MERGE	TOTAL_MERGE	1462000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	30927255000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00118	0
+MAP	STARTUP_MEM	215459752
+MAP	SETUP	491000
+MAP	SETUP_MEM	215459752
+MAP	CLEANUP	100000
+MAP	CLEANUP_MEM	226486088
+MAP	TOTAL_RUN	16576187000
+MAP	READ	7058889000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	395962
+MAP	VALUE_BYTE_COUNT	134047937
+MAP	MAP	8989035000
+MAP	WRITE	4227407000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	613347000
+MAP	SERIALIZE_OUTPUT	1707691000
+MAP	MAP_MEM	226486088
+SPILL	SORT_AND_SPILL	19618271000
+SPILL	QUICK_SORT	17253812000
+SPILL	SORT_COUNT	718578
+SPILL	COMBINE	0
+SPILL	WRITE	2364459000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	24300577
+SPILL	COMPRESS_BYTE_COUNT	24300685
+MERGE	TOTAL_MERGE	1874000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	36663269000
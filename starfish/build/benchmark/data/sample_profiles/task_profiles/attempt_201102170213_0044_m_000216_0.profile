@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00111	0
+MAP	STARTUP_MEM	216373032
+MAP	SETUP	477000
+MAP	SETUP_MEM	216373032
+MAP	CLEANUP	108000
+MAP	CLEANUP_MEM	224820216
+MAP	TOTAL_RUN	17713655000
+MAP	READ	6051001000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	474355
+MAP	VALUE_BYTE_COUNT	133994404
+MAP	MAP	11292746000
+MAP	WRITE	4671966000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	690245000
+MAP	SERIALIZE_OUTPUT	2218753000
+MAP	MAP_MEM	225675856
+SPILL	SORT_AND_SPILL	19294303000
+SPILL	QUICK_SORT	17767133000
+SPILL	SORT_COUNT	747626
+SPILL	COMBINE	0
+SPILL	WRITE	1527170000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	25540829
+SPILL	COMPRESS_BYTE_COUNT	25540937
+MERGE	TOTAL_MERGE	1482000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	37499516000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00107	0
+MAP	STARTUP_MEM	214678104
+MAP	SETUP	514000
+MAP	SETUP_MEM	214678104
+MAP	CLEANUP	96000
+MAP	CLEANUP_MEM	213594864
+MAP	TOTAL_RUN	21985991000
+MAP	READ	11717478000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	335804
+MAP	VALUE_BYTE_COUNT	134070335
+MAP	MAP	10087273000
+MAP	WRITE	4773834000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	660118000
+MAP	SERIALIZE_OUTPUT	1773579000
+MAP	MAP_MEM	213594864
+SPILL	SORT_AND_SPILL	32847454000
+SPILL	QUICK_SORT	28927852000
+SPILL	SORT_COUNT	681502
+SPILL	COMBINE	0
+SPILL	WRITE	3919602000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	23323352
+SPILL	COMPRESS_BYTE_COUNT	23323460
+MERGE	TOTAL_MERGE	1542000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	55337729000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00113	0
+MAP	STARTUP_MEM	215266960
+MAP	SETUP	475000
+MAP	SETUP_MEM	215266960
+MAP	CLEANUP	99000
+MAP	CLEANUP_MEM	240722640
+MAP	TOTAL_RUN	17436124000
+MAP	READ	6621794000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	359576
+MAP	VALUE_BYTE_COUNT	134087744
+MAP	MAP	9959607000
+MAP	WRITE	4015241000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	982313000
+MAP	SERIALIZE_OUTPUT	1574613000
+MAP	MAP_MEM	240722640
+SPILL	SORT_AND_SPILL	16953059000
+SPILL	QUICK_SORT	15320960000
+SPILL	SORT_COUNT	667443
+SPILL	COMBINE	0
+SPILL	WRITE	1632099000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	23000617
+SPILL	COMPRESS_BYTE_COUNT	23000725
+MERGE	TOTAL_MERGE	1601000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	34854651000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00157	0
+MAP	STARTUP_MEM	214428144
+MAP	SETUP	459000
+MAP	SETUP_MEM	214428144
+MAP	CLEANUP	103000
+MAP	CLEANUP_MEM	241467072
+MAP	TOTAL_RUN	14838150000
+MAP	READ	5831694000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	363104
+MAP	VALUE_BYTE_COUNT	134057803
+MAP	MAP	8779789000
+MAP	WRITE	3873364000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	722211000
+MAP	SERIALIZE_OUTPUT	1473356000
+MAP	MAP_MEM	241467072
+SPILL	SORT_AND_SPILL	16436242000
+SPILL	QUICK_SORT	14044192000
+SPILL	SORT_COUNT	650667
+SPILL	COMBINE	0
+SPILL	WRITE	2392050000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	22487482
+SPILL	COMPRESS_BYTE_COUNT	22487590
+MERGE	TOTAL_MERGE	1649000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	32558741000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00126	0
+MAP	STARTUP_MEM	216104424
+MAP	SETUP	479000
+MAP	SETUP_MEM	216104424
+MAP	CLEANUP	94000
+MAP	CLEANUP_MEM	215586088
+MAP	TOTAL_RUN	15168444000
+MAP	READ	5363016000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	390628
+MAP	VALUE_BYTE_COUNT	134076994
+MAP	MAP	9530542000
+MAP	WRITE	4098051000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1144443000
+MAP	SERIALIZE_OUTPUT	1487577000
+MAP	MAP_MEM	215586088
+SPILL	SORT_AND_SPILL	14235413000
+SPILL	QUICK_SORT	13014507000
+SPILL	SORT_COUNT	679716
+SPILL	COMBINE	0
+SPILL	WRITE	1220906000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	23465406
+SPILL	COMPRESS_BYTE_COUNT	23465514
+MERGE	TOTAL_MERGE	1415000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	29968939000
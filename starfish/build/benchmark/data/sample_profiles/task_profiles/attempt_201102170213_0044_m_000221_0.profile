@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00156	0
+MAP	STARTUP_MEM	214447472
+MAP	SETUP	444000
+MAP	SETUP_MEM	214447472
+MAP	CLEANUP	108000
+MAP	CLEANUP_MEM	238883536
+MAP	TOTAL_RUN	14318412000
+MAP	READ	5854159000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	362376
+MAP	VALUE_BYTE_COUNT	133975362
+MAP	MAP	8274284000
+MAP	WRITE	3471341000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	599004000
+MAP	SERIALIZE_OUTPUT	1456903000
+MAP	MAP_MEM	238883536
+SPILL	SORT_AND_SPILL	16277321000
+SPILL	QUICK_SORT	15093213000
+SPILL	SORT_COUNT	639729
+SPILL	COMBINE	0
+SPILL	WRITE	1184108000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	22350763
+SPILL	COMPRESS_BYTE_COUNT	22350871
+MERGE	TOTAL_MERGE	1498000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	31132405000
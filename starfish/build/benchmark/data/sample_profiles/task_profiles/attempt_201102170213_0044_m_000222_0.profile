@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00122	0
+MAP	STARTUP_MEM	215259792
+MAP	SETUP	521000
+MAP	SETUP_MEM	215259792
+MAP	CLEANUP	94000
+MAP	CLEANUP_MEM	226159176
+MAP	TOTAL_RUN	14991624000
+MAP	READ	5321274000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	379750
+MAP	VALUE_BYTE_COUNT	134056193
+MAP	MAP	9451130000
+MAP	WRITE	4843803000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1573838000
+MAP	SERIALIZE_OUTPUT	1508954000
+MAP	MAP_MEM	226159176
+SPILL	SORT_AND_SPILL	18215728000
+SPILL	QUICK_SORT	15986616000
+SPILL	SORT_COUNT	616117
+SPILL	COMBINE	0
+SPILL	WRITE	2229112000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	21391675
+SPILL	COMPRESS_BYTE_COUNT	21391783
+MERGE	TOTAL_MERGE	1859000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	34221236000
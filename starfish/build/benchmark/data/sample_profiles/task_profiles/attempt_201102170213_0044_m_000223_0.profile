@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00117	0
+MAP	STARTUP_MEM	215290040
+MAP	SETUP	490000
+MAP	SETUP_MEM	215290040
+MAP	CLEANUP	88000
+MAP	CLEANUP_MEM	216093496
+MAP	TOTAL_RUN	18536505000
+MAP	READ	6325900000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	410508
+MAP	VALUE_BYTE_COUNT	134037371
+MAP	MAP	11992905000
+MAP	WRITE	6143062000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	660196000
+MAP	SERIALIZE_OUTPUT	1610404000
+MAP	MAP_MEM	216093496
+SPILL	SORT_AND_SPILL	20809447000
+SPILL	QUICK_SORT	18391746000
+SPILL	SORT_COUNT	765599
+SPILL	COMBINE	0
+SPILL	WRITE	2417701000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	25876696
+SPILL	COMPRESS_BYTE_COUNT	25876804
+MERGE	TOTAL_MERGE	1510000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	40161360000
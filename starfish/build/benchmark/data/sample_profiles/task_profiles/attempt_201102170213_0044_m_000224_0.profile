@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00123	0
+MAP	STARTUP_MEM	216313264
+MAP	SETUP	460000
+MAP	SETUP_MEM	216313264
+MAP	CLEANUP	97000
+MAP	CLEANUP_MEM	241650560
+MAP	TOTAL_RUN	17107933000
+MAP	READ	5048903000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	407603
+MAP	VALUE_BYTE_COUNT	134068470
+MAP	MAP	11847098000
+MAP	WRITE	6263311000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	712436000
+MAP	SERIALIZE_OUTPUT	2335070000
+MAP	MAP_MEM	241650560
+SPILL	SORT_AND_SPILL	25193074000
+SPILL	QUICK_SORT	19815516000
+SPILL	SORT_COUNT	637830
+SPILL	COMBINE	0
+SPILL	WRITE	5377558000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	22358726
+SPILL	COMPRESS_BYTE_COUNT	22358834
+MERGE	TOTAL_MERGE	1603000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	45959012000
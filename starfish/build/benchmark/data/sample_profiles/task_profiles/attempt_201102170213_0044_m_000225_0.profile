@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00133	0
+MAP	STARTUP_MEM	214508656
+MAP	SETUP	486000
+MAP	SETUP_MEM	214508656
+MAP	CLEANUP	102000
+MAP	CLEANUP_MEM	239210992
+MAP	TOTAL_RUN	20941355000
+MAP	READ	6764720000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	371686
+MAP	VALUE_BYTE_COUNT	134058128
+MAP	MAP	13912392000
+MAP	WRITE	5606208000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	729240000
+MAP	SERIALIZE_OUTPUT	2384839000
+MAP	MAP_MEM	240066632
+SPILL	SORT_AND_SPILL	16804461666
+SPILL	QUICK_SORT	15064345666
+SPILL	SORT_COUNT	655305
+SPILL	COMBINE	0
+SPILL	WRITE	1740116000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	23149013
+SPILL	COMPRESS_BYTE_COUNT	23149121
+MERGE	TOTAL_MERGE	1805000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	38495916666
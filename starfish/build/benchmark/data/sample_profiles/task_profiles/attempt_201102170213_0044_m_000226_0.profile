@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00178	0
+MAP	STARTUP_MEM	216077632
+MAP	SETUP	471000
+MAP	SETUP_MEM	216077632
+MAP	CLEANUP	96000
+MAP	CLEANUP_MEM	234517680
+MAP	TOTAL_RUN	25651822000
+MAP	READ	7577500000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	380926
+MAP	VALUE_BYTE_COUNT	134054649
+MAP	MAP	16525492000
+MAP	WRITE	4076169000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	836138000
+MAP	SERIALIZE_OUTPUT	1499131000
+MAP	MAP_MEM	235373320
+SPILL	SORT_AND_SPILL	19665098000
+SPILL	QUICK_SORT	17502684000
+SPILL	SORT_COUNT	625022
+SPILL	COMBINE	0
+SPILL	WRITE	2162414000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	21903518
+SPILL	COMPRESS_BYTE_COUNT	21903626
+MERGE	TOTAL_MERGE	1623000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	45843700000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00144	0
+MAP	STARTUP_MEM	215265120
+MAP	SETUP	578000
+MAP	SETUP_MEM	215265120
+MAP	CLEANUP	105000
+MAP	CLEANUP_MEM	243541064
+MAP	TOTAL_RUN	19933617000
+MAP	READ	6670260000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	356496
+MAP	VALUE_BYTE_COUNT	134014551
+MAP	MAP	12500532000
+MAP	WRITE	6250666000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1141280000
+MAP	SERIALIZE_OUTPUT	3031345000
+MAP	MAP_MEM	243541064
+SPILL	SORT_AND_SPILL	37569110000
+SPILL	QUICK_SORT	26921313000
+SPILL	SORT_COUNT	671163
+SPILL	COMBINE	0
+SPILL	WRITE	10647797000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	23498398
+SPILL	COMPRESS_BYTE_COUNT	23498506
+MERGE	TOTAL_MERGE	243181000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	58849003000
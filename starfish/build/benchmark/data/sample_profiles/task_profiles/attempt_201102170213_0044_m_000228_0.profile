@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00146	0
+MAP	STARTUP_MEM	214476408
+MAP	SETUP	433000
+MAP	SETUP_MEM	214476408
+MAP	CLEANUP	103000
+MAP	CLEANUP_MEM	246569728
+MAP	TOTAL_RUN	23011095000
+MAP	READ	6724667000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	368543
+MAP	VALUE_BYTE_COUNT	134225371
+MAP	MAP	16085930000
+MAP	WRITE	4198343000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	584727000
+MAP	SERIALIZE_OUTPUT	1808576000
+MAP	MAP_MEM	246569728
+SPILL	SORT_AND_SPILL	20738583000
+SPILL	QUICK_SORT	18877706000
+SPILL	SORT_COUNT	665417
+SPILL	COMBINE	0
+SPILL	WRITE	1860877000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	22888816
+SPILL	COMPRESS_BYTE_COUNT	22888924
+MERGE	TOTAL_MERGE	1486000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	45347254000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00010	0
+MAP	STARTUP_MEM	216318232
+MAP	SETUP	477000
+MAP	SETUP_MEM	216318232
+MAP	CLEANUP	111000
+MAP	CLEANUP_MEM	229442648
+MAP	TOTAL_RUN	17258313000
+MAP	READ	7334817000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	88026
+MAP	VALUE_BYTE_COUNT	134171134
+MAP	MAP	9854129000
+MAP	WRITE	5399439000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	653308000
+MAP	SERIALIZE_OUTPUT	2129602000
+MAP	MAP_MEM	229442648
+SPILL	SORT_AND_SPILL	19307617000
+SPILL	QUICK_SORT	17245150000
+SPILL	SORT_COUNT	781394
+SPILL	COMBINE	0
+SPILL	WRITE	2062467000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	25398734
+SPILL	COMPRESS_BYTE_COUNT	25398842
+MERGE	TOTAL_MERGE	1616000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	38298895000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00148	0
+MAP	STARTUP_MEM	215398264
+MAP	SETUP	499000
+MAP	SETUP_MEM	215398264
+MAP	CLEANUP	99000
+MAP	CLEANUP_MEM	213216704
+MAP	TOTAL_RUN	32086131000
+MAP	READ	11976909000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	391622
+MAP	VALUE_BYTE_COUNT	134047883
+MAP	MAP	19747916000
+MAP	WRITE	7286198000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	621894000
+MAP	SERIALIZE_OUTPUT	4258747000
+MAP	MAP_MEM	213216704
+SPILL	SORT_AND_SPILL	19267381000
+SPILL	QUICK_SORT	14901720000
+SPILL	SORT_COUNT	737540
+SPILL	COMBINE	0
+SPILL	WRITE	4365661000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	25656053
+SPILL	COMPRESS_BYTE_COUNT	25656161
+MERGE	TOTAL_MERGE	1626000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	52522450000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00121	0
+MAP	STARTUP_MEM	214476360
+MAP	SETUP	446000
+MAP	SETUP_MEM	214476360
+MAP	CLEANUP	104000
+MAP	CLEANUP_MEM	235667064
+MAP	TOTAL_RUN	16245539000
+MAP	READ	6198997000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	362110
+MAP	VALUE_BYTE_COUNT	134052475
+MAP	MAP	9849850000
+MAP	WRITE	3671783000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	609570000
+MAP	SERIALIZE_OUTPUT	1678768000
+MAP	MAP_MEM	235667064
+SPILL	SORT_AND_SPILL	14814541000
+SPILL	QUICK_SORT	13513151000
+SPILL	SORT_COUNT	653608
+SPILL	COMBINE	0
+SPILL	WRITE	1301390000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	22708235
+SPILL	COMPRESS_BYTE_COUNT	22708343
+MERGE	TOTAL_MERGE	1686000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	33428530000
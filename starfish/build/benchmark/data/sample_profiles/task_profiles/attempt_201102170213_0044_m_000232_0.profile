@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00147	0
+MAP	STARTUP_MEM	215916440
+MAP	SETUP	472000
+MAP	SETUP_MEM	215916440
+MAP	CLEANUP	105000
+MAP	CLEANUP_MEM	210967552
+MAP	TOTAL_RUN	20519476000
+MAP	READ	6178233000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	371490
+MAP	VALUE_BYTE_COUNT	133888273
+MAP	MAP	11431879000
+MAP	WRITE	4782797000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1016142000
+MAP	SERIALIZE_OUTPUT	1614817000
+MAP	MAP_MEM	211993512
+SPILL	SORT_AND_SPILL	25885717619
+SPILL	QUICK_SORT	22802724619
+SPILL	SORT_COUNT	664039
+SPILL	COMBINE	0
+SPILL	WRITE	3082993000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	23151590
+SPILL	COMPRESS_BYTE_COUNT	23151698
+MERGE	TOTAL_MERGE	1584000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	50230365619
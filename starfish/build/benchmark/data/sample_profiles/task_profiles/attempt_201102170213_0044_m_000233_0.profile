@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00201	0
+MAP	STARTUP_MEM	214467992
+MAP	SETUP	652000
+MAP	SETUP_MEM	214467992
+MAP	CLEANUP	99000
+MAP	CLEANUP_MEM	221906200
+MAP	TOTAL_RUN	14552584000
+MAP	READ	5765453000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	373835
+MAP	VALUE_BYTE_COUNT	134110983
+MAP	MAP	8586875000
+MAP	WRITE	3474394000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	512543000
+MAP	SERIALIZE_OUTPUT	1535877000
+MAP	MAP_MEM	221906200
+SPILL	SORT_AND_SPILL	19700028837
+SPILL	QUICK_SORT	13775854000
+SPILL	SORT_COUNT	605095
+SPILL	COMBINE	0
+SPILL	WRITE	5924174837
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	21549343
+SPILL	COMPRESS_BYTE_COUNT	21549451
+MERGE	TOTAL_MERGE	1638000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	36981757837
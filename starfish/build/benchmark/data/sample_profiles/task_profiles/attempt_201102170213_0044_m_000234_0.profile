@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00143	0
+MAP	STARTUP_MEM	215324840
+MAP	SETUP	504000
+MAP	SETUP_MEM	215324840
+MAP	CLEANUP	106000
+MAP	CLEANUP_MEM	218642904
+MAP	TOTAL_RUN	34310457000
+MAP	READ	14528262000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	367542
+MAP	VALUE_BYTE_COUNT	134110754
+MAP	MAP	18828262000
+MAP	WRITE	8841439000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1549282000
+MAP	SERIALIZE_OUTPUT	1999616000
+MAP	MAP_MEM	218642904
+SPILL	SORT_AND_SPILL	23189802116
+SPILL	QUICK_SORT	20471401116
+SPILL	SORT_COUNT	611623
+SPILL	COMBINE	0
+SPILL	WRITE	2718401000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	21245941
+SPILL	COMPRESS_BYTE_COUNT	21246049
+MERGE	TOTAL_MERGE	1515000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	58316941116
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00142	0
+MAP	STARTUP_MEM	215251712
+MAP	SETUP	467000
+MAP	SETUP_MEM	215251712
+MAP	CLEANUP	95000
+MAP	CLEANUP_MEM	222383816
+MAP	TOTAL_RUN	19805601000
+MAP	READ	6646253000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	371791
+MAP	VALUE_BYTE_COUNT	134059103
+MAP	MAP	12943245000
+MAP	WRITE	7487955000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1051951000
+MAP	SERIALIZE_OUTPUT	2520098000
+MAP	MAP_MEM	222945976
+SPILL	SORT_AND_SPILL	14991249000
+SPILL	QUICK_SORT	13712170000
+SPILL	SORT_COUNT	621057
+SPILL	COMBINE	0
+SPILL	WRITE	1279079000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	21554319
+SPILL	COMPRESS_BYTE_COUNT	21554427
+MERGE	TOTAL_MERGE	1562000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	38589068000
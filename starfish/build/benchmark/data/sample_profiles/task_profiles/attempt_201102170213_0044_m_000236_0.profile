@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00163	0
+MAP	STARTUP_MEM	215273216
+MAP	SETUP	471000
+MAP	SETUP_MEM	215273216
+MAP	CLEANUP	94000
+MAP	CLEANUP_MEM	240504800
+MAP	TOTAL_RUN	25787773000
+MAP	READ	9564052000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	352338
+MAP	VALUE_BYTE_COUNT	134033497
+MAP	MAP	16023999000
+MAP	WRITE	4979730000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1550385000
+MAP	SERIALIZE_OUTPUT	1870506000
+MAP	MAP_MEM	240504800
+SPILL	SORT_AND_SPILL	11673127000
+SPILL	QUICK_SORT	10588272000
+SPILL	SORT_COUNT	583795
+SPILL	COMBINE	0
+SPILL	WRITE	1084855000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	20489049
+SPILL	COMPRESS_BYTE_COUNT	20489157
+MERGE	TOTAL_MERGE	1475000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	37991997000
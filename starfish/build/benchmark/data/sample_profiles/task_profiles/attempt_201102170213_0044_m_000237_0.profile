@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00145	0
+MAP	STARTUP_MEM	215317664
+MAP	SETUP	475000
+MAP	SETUP_MEM	215317664
+MAP	CLEANUP	88000
+MAP	CLEANUP_MEM	214632248
+MAP	TOTAL_RUN	23919399000
+MAP	READ	10571924000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	363356
+MAP	VALUE_BYTE_COUNT	134067544
+MAP	MAP	12608484000
+MAP	WRITE	6477215000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1381984000
+MAP	SERIALIZE_OUTPUT	2887778000
+MAP	MAP_MEM	214632248
+SPILL	SORT_AND_SPILL	17634499000
+SPILL	QUICK_SORT	16270657000
+SPILL	SORT_COUNT	640369
+SPILL	COMBINE	0
+SPILL	WRITE	1363842000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	22222977
+SPILL	COMPRESS_BYTE_COUNT	22223085
+MERGE	TOTAL_MERGE	1499000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	42747491000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00119	0
+MAP	STARTUP_MEM	214623952
+MAP	SETUP	451000
+MAP	SETUP_MEM	214623952
+MAP	CLEANUP	124000
+MAP	CLEANUP_MEM	230013344
+MAP	TOTAL_RUN	16826299000
+MAP	READ	7448159000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	376565
+MAP	VALUE_BYTE_COUNT	134714351
+MAP	MAP	9097560000
+MAP	WRITE	3775663000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	615155000
+MAP	SERIALIZE_OUTPUT	1414372000
+MAP	MAP_MEM	230013344
+SPILL	SORT_AND_SPILL	18288193000
+SPILL	QUICK_SORT	15157519000
+SPILL	SORT_COUNT	666658
+SPILL	COMBINE	0
+SPILL	WRITE	3130674000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	22609029
+SPILL	COMPRESS_BYTE_COUNT	22609137
+MERGE	TOTAL_MERGE	1676000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	38522372000
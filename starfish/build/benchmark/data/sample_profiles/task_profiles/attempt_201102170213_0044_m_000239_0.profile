@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00138	0
+MAP	STARTUP_MEM	215339304
+MAP	SETUP	530000
+MAP	SETUP_MEM	215339304
+MAP	CLEANUP	105000
+MAP	CLEANUP_MEM	223748784
+MAP	TOTAL_RUN	34857281000
+MAP	READ	11349100000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	374570
+MAP	VALUE_BYTE_COUNT	134038248
+MAP	MAP	20408812000
+MAP	WRITE	9710724000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	2248703000
+MAP	SERIALIZE_OUTPUT	2647658000
+MAP	MAP_MEM	223748784
+SPILL	SORT_AND_SPILL	15608760116
+SPILL	QUICK_SORT	13944608000
+SPILL	SORT_COUNT	617803
+SPILL	COMBINE	0
+SPILL	WRITE	1664152116
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	21530827
+SPILL	COMPRESS_BYTE_COUNT	21530935
+MERGE	TOTAL_MERGE	1668000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	52232576116
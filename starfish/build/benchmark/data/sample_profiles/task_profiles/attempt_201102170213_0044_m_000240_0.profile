@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00124	0
+MAP	STARTUP_MEM	216120352
+MAP	SETUP	570000
+MAP	SETUP_MEM	216120352
+MAP	CLEANUP	118000
+MAP	CLEANUP_MEM	240939232
+MAP	TOTAL_RUN	23674933000
+MAP	READ	6810752000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	374535
+MAP	VALUE_BYTE_COUNT	134114752
+MAP	MAP	16429893000
+MAP	WRITE	7476975000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	618525000
+MAP	SERIALIZE_OUTPUT	1408575000
+MAP	MAP_MEM	240939232
+SPILL	SORT_AND_SPILL	18715885837
+SPILL	QUICK_SORT	14660110837
+SPILL	SORT_COUNT	652909
+SPILL	COMBINE	0
+SPILL	WRITE	4055775000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	22913113
+SPILL	COMPRESS_BYTE_COUNT	22913221
+MERGE	TOTAL_MERGE	2255000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	45837583837
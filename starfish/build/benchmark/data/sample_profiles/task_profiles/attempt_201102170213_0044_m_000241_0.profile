@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00152	0
+MAP	STARTUP_MEM	216144600
+MAP	SETUP	509000
+MAP	SETUP_MEM	216144600
+MAP	CLEANUP	96000
+MAP	CLEANUP_MEM	224228184
+MAP	TOTAL_RUN	17566466000
+MAP	READ	7943999000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	382627
+MAP	VALUE_BYTE_COUNT	134055787
+MAP	MAP	9348672000
+MAP	WRITE	4086275000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	604648000
+MAP	SERIALIZE_OUTPUT	1541515000
+MAP	MAP_MEM	224228184
+SPILL	SORT_AND_SPILL	18454169000
+SPILL	QUICK_SORT	16162595000
+SPILL	SORT_COUNT	681043
+SPILL	COMBINE	0
+SPILL	WRITE	2291574000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	23816600
+SPILL	COMPRESS_BYTE_COUNT	23816708
+MERGE	TOTAL_MERGE	1456000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	36738646000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00200	0
+MAP	STARTUP_MEM	214436384
+MAP	SETUP	518000
+MAP	SETUP_MEM	214436384
+MAP	CLEANUP	103000
+MAP	CLEANUP_MEM	228953232
+MAP	TOTAL_RUN	18790939000
+MAP	READ	8031010000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	376089
+MAP	VALUE_BYTE_COUNT	134056212
+MAP	MAP	10513936000
+MAP	WRITE	4424441000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	758579000
+MAP	SERIALIZE_OUTPUT	1535916000
+MAP	MAP_MEM	228953232
+SPILL	SORT_AND_SPILL	16246716000
+SPILL	QUICK_SORT	14850710000
+SPILL	SORT_COUNT	634973
+SPILL	COMBINE	0
+SPILL	WRITE	1396006000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	22699706
+SPILL	COMPRESS_BYTE_COUNT	22699814
+MERGE	TOTAL_MERGE	12691000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	35944808000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00188	0
+MAP	STARTUP_MEM	215317600
+MAP	SETUP	1275000
+MAP	SETUP_MEM	215317600
+MAP	CLEANUP	103000
+MAP	CLEANUP_MEM	216511504
+MAP	TOTAL_RUN	35348814619
+MAP	READ	13447975619
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	366142
+MAP	VALUE_BYTE_COUNT	134081842
+MAP	MAP	20703779000
+MAP	WRITE	12374926000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1825236000
+MAP	SERIALIZE_OUTPUT	5072319000
+MAP	MAP_MEM	217073664
+SPILL	SORT_AND_SPILL	18014658000
+SPILL	QUICK_SORT	16799437000
+SPILL	SORT_COUNT	594976
+SPILL	COMBINE	0
+SPILL	WRITE	1215221000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	20783504
+SPILL	COMPRESS_BYTE_COUNT	20783612
+MERGE	TOTAL_MERGE	1469000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	54580738619
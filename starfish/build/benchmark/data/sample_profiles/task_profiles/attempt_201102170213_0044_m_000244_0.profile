@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00127	0
+MAP	STARTUP_MEM	216041816
+MAP	SETUP	489000
+MAP	SETUP_MEM	216041816
+MAP	CLEANUP	103000
+MAP	CLEANUP_MEM	225633504
+MAP	TOTAL_RUN	15298389000
+MAP	READ	5686895000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	371959
+MAP	VALUE_BYTE_COUNT	134173065
+MAP	MAP	9419158000
+MAP	WRITE	3531471000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	555505000
+MAP	SERIALIZE_OUTPUT	1381853000
+MAP	MAP_MEM	226489144
+SPILL	SORT_AND_SPILL	14986223000
+SPILL	QUICK_SORT	13762952000
+SPILL	SORT_COUNT	642304
+SPILL	COMBINE	0
+SPILL	WRITE	1223271000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	22503196
+SPILL	COMPRESS_BYTE_COUNT	22503304
+MERGE	TOTAL_MERGE	1489000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	31948572000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00161	0
+MAP	STARTUP_MEM	214416616
+MAP	SETUP	462000
+MAP	SETUP_MEM	214416616
+MAP	CLEANUP	106000
+MAP	CLEANUP_MEM	245787208
+MAP	TOTAL_RUN	18426206000
+MAP	READ	7300209000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	361445
+MAP	VALUE_BYTE_COUNT	134045073
+MAP	MAP	10880416000
+MAP	WRITE	5270364000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	796672000
+MAP	SERIALIZE_OUTPUT	1822225000
+MAP	MAP_MEM	245787208
+SPILL	SORT_AND_SPILL	16127025000
+SPILL	QUICK_SORT	14689981000
+SPILL	SORT_COUNT	609428
+SPILL	COMBINE	0
+SPILL	WRITE	1437044000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	21403093
+SPILL	COMPRESS_BYTE_COUNT	21403201
+MERGE	TOTAL_MERGE	1573000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	37078510000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00129	0
+MAP	STARTUP_MEM	214655104
+MAP	SETUP	436000
+MAP	SETUP_MEM	214655104
+MAP	CLEANUP	100000
+MAP	CLEANUP_MEM	237991088
+MAP	TOTAL_RUN	20649309000
+MAP	READ	7067529000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	334929
+MAP	VALUE_BYTE_COUNT	134081474
+MAP	MAP	13403778000
+MAP	WRITE	8369598000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	707273000
+MAP	SERIALIZE_OUTPUT	5085989000
+MAP	MAP_MEM	237991088
+SPILL	SORT_AND_SPILL	16929368000
+SPILL	QUICK_SORT	15534260000
+SPILL	SORT_COUNT	588949
+SPILL	COMBINE	0
+SPILL	WRITE	1395108000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	20548965
+SPILL	COMPRESS_BYTE_COUNT	20549073
+MERGE	TOTAL_MERGE	1464000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	38115998000
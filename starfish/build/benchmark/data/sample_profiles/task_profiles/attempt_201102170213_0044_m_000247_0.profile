@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00130	0
+MAP	STARTUP_MEM	215266560
+MAP	SETUP	485000
+MAP	SETUP_MEM	215266560
+MAP	CLEANUP	106000
+MAP	CLEANUP_MEM	212821240
+MAP	TOTAL_RUN	26574469000
+MAP	READ	6858382000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	329553
+MAP	VALUE_BYTE_COUNT	134068868
+MAP	MAP	19259794000
+MAP	WRITE	7663102000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	801975000
+MAP	SERIALIZE_OUTPUT	2457401000
+MAP	MAP_MEM	212821240
+SPILL	SORT_AND_SPILL	26667564000
+SPILL	QUICK_SORT	24384587000
+SPILL	SORT_COUNT	910900
+SPILL	COMBINE	0
+SPILL	WRITE	2282977000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	31149614
+SPILL	COMPRESS_BYTE_COUNT	31149722
+MERGE	TOTAL_MERGE	1490000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	53913334000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00179	0
+MAP	STARTUP_MEM	215267024
+MAP	SETUP	470000
+MAP	SETUP_MEM	215267024
+MAP	CLEANUP	105000
+MAP	CLEANUP_MEM	228805848
+MAP	TOTAL_RUN	18649323000
+MAP	READ	6562533000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	365617
+MAP	VALUE_BYTE_COUNT	134060723
+MAP	MAP	11824478000
+MAP	WRITE	4764985000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	740099000
+MAP	SERIALIZE_OUTPUT	2128383000
+MAP	MAP_MEM	228805848
+SPILL	SORT_AND_SPILL	14879399000
+SPILL	QUICK_SORT	13685331000
+SPILL	SORT_COUNT	633519
+SPILL	COMBINE	0
+SPILL	WRITE	1194068000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	22419912
+SPILL	COMPRESS_BYTE_COUNT	22420020
+MERGE	TOTAL_MERGE	1583000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	34894756000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00125	0
+MAP	STARTUP_MEM	216396232
+MAP	SETUP	495000
+MAP	SETUP_MEM	216396232
+MAP	CLEANUP	103000
+MAP	CLEANUP_MEM	226468072
+MAP	TOTAL_RUN	21006076000
+MAP	READ	6317427000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	321783
+MAP	VALUE_BYTE_COUNT	134002060
+MAP	MAP	14390411000
+MAP	WRITE	7688142000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	602722000
+MAP	SERIALIZE_OUTPUT	2886857000
+MAP	MAP_MEM	226468072
+SPILL	SORT_AND_SPILL	15646797000
+SPILL	QUICK_SORT	14336096000
+SPILL	SORT_COUNT	598066
+SPILL	COMBINE	0
+SPILL	WRITE	1310701000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	20710841
+SPILL	COMPRESS_BYTE_COUNT	20710949
+MERGE	TOTAL_MERGE	1540000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	37074316000
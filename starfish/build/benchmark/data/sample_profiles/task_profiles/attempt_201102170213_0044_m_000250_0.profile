@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00193	0
+MAP	STARTUP_MEM	216335584
+MAP	SETUP	497000
+MAP	SETUP_MEM	216335584
+MAP	CLEANUP	99000
+MAP	CLEANUP_MEM	216229240
+MAP	TOTAL_RUN	24774419000
+MAP	READ	7388900000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	364133
+MAP	VALUE_BYTE_COUNT	134050818
+MAP	MAP	17160329000
+MAP	WRITE	6932735000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	3989874000
+MAP	SERIALIZE_OUTPUT	1327571000
+MAP	MAP_MEM	216229240
+SPILL	SORT_AND_SPILL	13559037000
+SPILL	QUICK_SORT	12302315000
+SPILL	SORT_COUNT	593281
+SPILL	COMBINE	0
+SPILL	WRITE	1256722000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	21062031
+SPILL	COMPRESS_BYTE_COUNT	21062139
+MERGE	TOTAL_MERGE	1626000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	39360424000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00134	0
+MAP	STARTUP_MEM	216133944
+MAP	SETUP	484000
+MAP	SETUP_MEM	216133944
+MAP	CLEANUP	101000
+MAP	CLEANUP_MEM	232950752
+MAP	TOTAL_RUN	14330806000
+MAP	READ	5192120000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	403739
+MAP	VALUE_BYTE_COUNT	134042621
+MAP	MAP	8931848000
+MAP	WRITE	3378515000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	561730000
+MAP	SERIALIZE_OUTPUT	1392039000
+MAP	MAP_MEM	232950752
+SPILL	SORT_AND_SPILL	17789539000
+SPILL	QUICK_SORT	16637845000
+SPILL	SORT_COUNT	624615
+SPILL	COMBINE	0
+SPILL	WRITE	1151694000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	21921789
+SPILL	COMPRESS_BYTE_COUNT	21921897
+MERGE	TOTAL_MERGE	1540000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	32639489000
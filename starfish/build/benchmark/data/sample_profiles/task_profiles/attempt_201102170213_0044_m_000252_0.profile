@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00168	0
+MAP	STARTUP_MEM	214415840
+MAP	SETUP	438000
+MAP	SETUP_MEM	214415840
+MAP	CLEANUP	93000
+MAP	CLEANUP_MEM	216967832
+MAP	TOTAL_RUN	18238512000
+MAP	READ	6930493000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	357994
+MAP	VALUE_BYTE_COUNT	134094781
+MAP	MAP	11103871000
+MAP	WRITE	3386648000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	636407000
+MAP	SERIALIZE_OUTPUT	1420188000
+MAP	MAP_MEM	216967832
+SPILL	SORT_AND_SPILL	16218590000
+SPILL	QUICK_SORT	14215085000
+SPILL	SORT_COUNT	606435
+SPILL	COMBINE	0
+SPILL	WRITE	2003505000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	21298391
+SPILL	COMPRESS_BYTE_COUNT	21298499
+MERGE	TOTAL_MERGE	1647000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	35343487000
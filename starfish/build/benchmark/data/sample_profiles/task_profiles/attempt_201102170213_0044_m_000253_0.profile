@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00116	0
+MAP	STARTUP_MEM	214466120
+MAP	SETUP	419000
+MAP	SETUP_MEM	214466120
+MAP	CLEANUP	92000
+MAP	CLEANUP_MEM	215779120
+MAP	TOTAL_RUN	19037503000
+MAP	READ	9275922000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	433370
+MAP	VALUE_BYTE_COUNT	134036580
+MAP	MAP	9499427000
+MAP	WRITE	3834663000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	641826000
+MAP	SERIALIZE_OUTPUT	1284050000
+MAP	MAP_MEM	215779120
+SPILL	SORT_AND_SPILL	17002857000
+SPILL	QUICK_SORT	14232179000
+SPILL	SORT_COUNT	751028
+SPILL	COMBINE	0
+SPILL	WRITE	2770678000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	24945041
+SPILL	COMPRESS_BYTE_COUNT	24945149
+MERGE	TOTAL_MERGE	21458000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	39435599000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00165	0
+MAP	STARTUP_MEM	215248984
+MAP	SETUP	540000
+MAP	SETUP_MEM	215248984
+MAP	CLEANUP	105000
+MAP	CLEANUP_MEM	218947368
+MAP	TOTAL_RUN	14788264000
+MAP	READ	5593884000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	364084
+MAP	VALUE_BYTE_COUNT	134060905
+MAP	MAP	9001334000
+MAP	WRITE	3714785000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	724605000
+MAP	SERIALIZE_OUTPUT	1347440000
+MAP	MAP_MEM	218947368
+SPILL	SORT_AND_SPILL	18240388000
+SPILL	QUICK_SORT	17037965000
+SPILL	SORT_COUNT	629912
+SPILL	COMBINE	0
+SPILL	WRITE	1202423000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	22313908
+SPILL	COMPRESS_BYTE_COUNT	22314016
+MERGE	TOTAL_MERGE	1576000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	33681506000
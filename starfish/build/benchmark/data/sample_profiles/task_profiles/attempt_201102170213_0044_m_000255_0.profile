@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00169	0
+MAP	STARTUP_MEM	215265408
+MAP	SETUP	467000
+MAP	SETUP_MEM	215265408
+MAP	CLEANUP	91000
+MAP	CLEANUP_MEM	212217048
+MAP	TOTAL_RUN	21446722000
+MAP	READ	12149924000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	344372
+MAP	VALUE_BYTE_COUNT	134041098
+MAP	MAP	9058358000
+MAP	WRITE	4251518000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	504140000
+MAP	SERIALIZE_OUTPUT	1443669000
+MAP	MAP_MEM	212217048
+SPILL	SORT_AND_SPILL	16929127000
+SPILL	QUICK_SORT	15832423000
+SPILL	SORT_COUNT	597782
+SPILL	COMBINE	0
+SPILL	WRITE	1096704000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	20936249
+SPILL	COMPRESS_BYTE_COUNT	20936357
+MERGE	TOTAL_MERGE	1429000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	39821507000
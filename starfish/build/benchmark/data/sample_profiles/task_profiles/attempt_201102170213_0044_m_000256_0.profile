@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00189	0
+MAP	STARTUP_MEM	216951424
+MAP	SETUP	451000
+MAP	SETUP_MEM	216951424
+MAP	CLEANUP	97000
+MAP	CLEANUP_MEM	232925136
+MAP	TOTAL_RUN	17815707000
+MAP	READ	5922343000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	396284
+MAP	VALUE_BYTE_COUNT	134028732
+MAP	MAP	11686228000
+MAP	WRITE	6230218000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	579714000
+MAP	SERIALIZE_OUTPUT	2829627000
+MAP	MAP_MEM	232925136
+SPILL	SORT_AND_SPILL	15896028000
+SPILL	QUICK_SORT	14214797000
+SPILL	SORT_COUNT	622740
+SPILL	COMBINE	0
+SPILL	WRITE	1681231000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	21980041
+SPILL	COMPRESS_BYTE_COUNT	21980149
+MERGE	TOTAL_MERGE	1510000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	36446903000
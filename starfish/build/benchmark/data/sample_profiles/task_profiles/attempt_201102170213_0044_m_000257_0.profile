@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00190	0
+MAP	STARTUP_MEM	216368672
+MAP	SETUP	472000
+MAP	SETUP_MEM	216368672
+MAP	CLEANUP	104000
+MAP	CLEANUP_MEM	216991000
+MAP	TOTAL_RUN	15985247000
+MAP	READ	5466216000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	383754
+MAP	VALUE_BYTE_COUNT	134051322
+MAP	MAP	10295941000
+MAP	WRITE	3587033000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	568333000
+MAP	SERIALIZE_OUTPUT	1357562000
+MAP	MAP_MEM	216991000
+SPILL	SORT_AND_SPILL	12761325000
+SPILL	QUICK_SORT	11597328000
+SPILL	SORT_COUNT	598379
+SPILL	COMBINE	0
+SPILL	WRITE	1163997000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	20810825
+SPILL	COMPRESS_BYTE_COUNT	20810933
+MERGE	TOTAL_MERGE	1437000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	29214776000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00162	0
+MAP	STARTUP_MEM	216072680
+MAP	SETUP	543000
+MAP	SETUP_MEM	216072680
+MAP	CLEANUP	103000
+MAP	CLEANUP_MEM	241824952
+MAP	TOTAL_RUN	17320485000
+MAP	READ	6120383000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	362054
+MAP	VALUE_BYTE_COUNT	134090318
+MAP	MAP	11005878000
+MAP	WRITE	4617965000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	562947000
+MAP	SERIALIZE_OUTPUT	2702143000
+MAP	MAP_MEM	242680592
+SPILL	SORT_AND_SPILL	14862167000
+SPILL	QUICK_SORT	12664358000
+SPILL	SORT_COUNT	593100
+SPILL	COMBINE	0
+SPILL	WRITE	2197809000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	20800699
+SPILL	COMPRESS_BYTE_COUNT	20800807
+MERGE	TOTAL_MERGE	1803000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	33290728000
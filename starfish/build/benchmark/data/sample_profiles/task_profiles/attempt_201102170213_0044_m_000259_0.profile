@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00139	0
+MAP	STARTUP_MEM	214425480
+MAP	SETUP	432000
+MAP	SETUP_MEM	214425480
+MAP	CLEANUP	94000
+MAP	CLEANUP_MEM	236377088
+MAP	TOTAL_RUN	18367130000
+MAP	READ	8995366000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	441350
+MAP	VALUE_BYTE_COUNT	134047158
+MAP	MAP	9143897000
+MAP	WRITE	4028948000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	706778000
+MAP	SERIALIZE_OUTPUT	1846337000
+MAP	MAP_MEM	237232728
+SPILL	SORT_AND_SPILL	14057759000
+SPILL	QUICK_SORT	12585234000
+SPILL	SORT_COUNT	652114
+SPILL	COMBINE	0
+SPILL	WRITE	1472525000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	23361134
+SPILL	COMPRESS_BYTE_COUNT	23361242
+MERGE	TOTAL_MERGE	1407000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	32932600000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00177	0
+MAP	STARTUP_MEM	214403384
+MAP	SETUP	446000
+MAP	SETUP_MEM	214403384
+MAP	CLEANUP	112000
+MAP	CLEANUP_MEM	224873688
+MAP	TOTAL_RUN	19209461667
+MAP	READ	8444002667
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	336364
+MAP	VALUE_BYTE_COUNT	134074440
+MAP	MAP	10529675000
+MAP	WRITE	4831558000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	888575000
+MAP	SERIALIZE_OUTPUT	1767204000
+MAP	MAP_MEM	224873688
+SPILL	SORT_AND_SPILL	25448757000
+SPILL	QUICK_SORT	24121107000
+SPILL	SORT_COUNT	627183
+SPILL	COMBINE	0
+SPILL	WRITE	1327650000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	22474530
+SPILL	COMPRESS_BYTE_COUNT	22474638
+MERGE	TOTAL_MERGE	1764000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	47109341667
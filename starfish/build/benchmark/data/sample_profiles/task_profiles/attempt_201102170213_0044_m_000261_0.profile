@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00149	0
+MAP	STARTUP_MEM	215247672
+MAP	SETUP	476000
+MAP	SETUP_MEM	215247672
+MAP	CLEANUP	100000
+MAP	CLEANUP_MEM	230201752
+MAP	TOTAL_RUN	26626428000
+MAP	READ	9361980000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	407673
+MAP	VALUE_BYTE_COUNT	134043091
+MAP	MAP	12628083000
+MAP	WRITE	5120217000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	602910000
+MAP	SERIALIZE_OUTPUT	2093671000
+MAP	MAP_MEM	230201752
+SPILL	SORT_AND_SPILL	19002619000
+SPILL	QUICK_SORT	17635936000
+SPILL	SORT_COUNT	717205
+SPILL	COMBINE	0
+SPILL	WRITE	1366683000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	25482052
+SPILL	COMPRESS_BYTE_COUNT	25482160
+MERGE	TOTAL_MERGE	1510000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	47190432000
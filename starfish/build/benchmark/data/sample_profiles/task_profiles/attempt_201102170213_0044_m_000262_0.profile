@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00175	0
+MAP	STARTUP_MEM	214424840
+MAP	SETUP	420000
+MAP	SETUP_MEM	214424840
+MAP	CLEANUP	92000
+MAP	CLEANUP_MEM	235537760
+MAP	TOTAL_RUN	18433811000
+MAP	READ	7115122000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	398594
+MAP	VALUE_BYTE_COUNT	133670819
+MAP	MAP	11112692000
+MAP	WRITE	5880788000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	804405000
+MAP	SERIALIZE_OUTPUT	1412093000
+MAP	MAP_MEM	235537760
+SPILL	SORT_AND_SPILL	13786846000
+SPILL	QUICK_SORT	12652047000
+SPILL	SORT_COUNT	651098
+SPILL	COMBINE	0
+SPILL	WRITE	1134799000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	22739849
+SPILL	COMPRESS_BYTE_COUNT	22739957
+MERGE	TOTAL_MERGE	1464000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	33873406000
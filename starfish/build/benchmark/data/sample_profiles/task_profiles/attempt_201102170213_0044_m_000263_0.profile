@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00167	0
+MAP	STARTUP_MEM	216146512
+MAP	SETUP	550000
+MAP	SETUP_MEM	216146512
+MAP	CLEANUP	104000
+MAP	CLEANUP_MEM	230353000
+MAP	TOTAL_RUN	16934602000
+MAP	READ	6149259000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	368732
+MAP	VALUE_BYTE_COUNT	134056417
+MAP	MAP	10530809000
+MAP	WRITE	4238706000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	669524000
+MAP	SERIALIZE_OUTPUT	1662146000
+MAP	MAP_MEM	230353000
+SPILL	SORT_AND_SPILL	23695955000
+SPILL	QUICK_SORT	21567125000
+SPILL	SORT_COUNT	622072
+SPILL	COMBINE	0
+SPILL	WRITE	2128830000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	21903755
+SPILL	COMPRESS_BYTE_COUNT	21903863
+MERGE	TOTAL_MERGE	1561000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	41639763000
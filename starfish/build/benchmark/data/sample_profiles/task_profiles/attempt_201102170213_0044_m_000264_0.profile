@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00166	0
+MAP	STARTUP_MEM	216100608
+MAP	SETUP	485000
+MAP	SETUP_MEM	216100608
+MAP	CLEANUP	99000
+MAP	CLEANUP_MEM	223131768
+MAP	TOTAL_RUN	19618489000
+MAP	READ	9196626000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	337386
+MAP	VALUE_BYTE_COUNT	134076613
+MAP	MAP	9815721000
+MAP	WRITE	4089487000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	555498000
+MAP	SERIALIZE_OUTPUT	1799507000
+MAP	MAP_MEM	223131768
+SPILL	SORT_AND_SPILL	13747655000
+SPILL	QUICK_SORT	12482989000
+SPILL	SORT_COUNT	638101
+SPILL	COMBINE	0
+SPILL	WRITE	1264666000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	22189895
+SPILL	COMPRESS_BYTE_COUNT	22190003
+MERGE	TOTAL_MERGE	1494000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	33922586000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00197	0
+MAP	STARTUP_MEM	216077552
+MAP	SETUP	842000
+MAP	SETUP_MEM	216077552
+MAP	CLEANUP	101000
+MAP	CLEANUP_MEM	241952728
+MAP	TOTAL_RUN	17965280000
+MAP	READ	6809854000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	362131
+MAP	VALUE_BYTE_COUNT	134061588
+MAP	MAP	9764073000
+MAP	WRITE	4869880000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	638726000
+MAP	SERIALIZE_OUTPUT	1945645000
+MAP	MAP_MEM	241952728
+SPILL	SORT_AND_SPILL	14412273000
+SPILL	QUICK_SORT	13148886000
+SPILL	SORT_COUNT	584703
+SPILL	COMBINE	0
+SPILL	WRITE	1263387000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	20755135
+SPILL	COMPRESS_BYTE_COUNT	20755243
+MERGE	TOTAL_MERGE	2157000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	33438478000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00184	0
+MAP	STARTUP_MEM	215268088
+MAP	SETUP	472000
+MAP	SETUP_MEM	215268088
+MAP	CLEANUP	93000
+MAP	CLEANUP_MEM	238844008
+MAP	TOTAL_RUN	13594255000
+MAP	READ	5342195000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	375305
+MAP	VALUE_BYTE_COUNT	134056374
+MAP	MAP	7845664000
+MAP	WRITE	3118053000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	594357000
+MAP	SERIALIZE_OUTPUT	1261513000
+MAP	MAP_MEM	238844008
+SPILL	SORT_AND_SPILL	13646639000
+SPILL	QUICK_SORT	12570824000
+SPILL	SORT_COUNT	580225
+SPILL	COMBINE	0
+SPILL	WRITE	1075815000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	20735288
+SPILL	COMPRESS_BYTE_COUNT	20735396
+MERGE	TOTAL_MERGE	1432000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	27702134000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00210	0
+MAP	STARTUP_MEM	214424768
+MAP	SETUP	780000
+MAP	SETUP_MEM	214424768
+MAP	CLEANUP	97000
+MAP	CLEANUP_MEM	242345576
+MAP	TOTAL_RUN	16051742000
+MAP	READ	5380471000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	406580
+MAP	VALUE_BYTE_COUNT	134015274
+MAP	MAP	10358112000
+MAP	WRITE	4042575000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	690298000
+MAP	SERIALIZE_OUTPUT	1471765000
+MAP	MAP_MEM	242345576
+SPILL	SORT_AND_SPILL	13165579000
+SPILL	QUICK_SORT	12034295000
+SPILL	SORT_COUNT	580246
+SPILL	COMBINE	0
+SPILL	WRITE	1131284000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	20712867
+SPILL	COMPRESS_BYTE_COUNT	20712975
+MERGE	TOTAL_MERGE	1626000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	29945816000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00199	0
+MAP	STARTUP_MEM	214448584
+MAP	SETUP	414000
+MAP	SETUP_MEM	214448584
+MAP	CLEANUP	96000
+MAP	CLEANUP_MEM	217457104
+MAP	TOTAL_RUN	15061940000
+MAP	READ	5330868000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	371637
+MAP	VALUE_BYTE_COUNT	134055786
+MAP	MAP	9513380000
+MAP	WRITE	3873932000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	508709000
+MAP	SERIALIZE_OUTPUT	1410661000
+MAP	MAP_MEM	218019264
+SPILL	SORT_AND_SPILL	16810859000
+SPILL	QUICK_SORT	11676353000
+SPILL	SORT_COUNT	597017
+SPILL	COMBINE	0
+SPILL	WRITE	5134506000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	21120816
+SPILL	COMPRESS_BYTE_COUNT	21120924
+MERGE	TOTAL_MERGE	1408000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	33321189000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00202	0
+MAP	STARTUP_MEM	215253960
+MAP	SETUP	635000
+MAP	SETUP_MEM	215253960
+MAP	CLEANUP	101000
+MAP	CLEANUP_MEM	214459072
+MAP	TOTAL_RUN	17668355000
+MAP	READ	5542701000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	347592
+MAP	VALUE_BYTE_COUNT	134077458
+MAP	MAP	11589544000
+MAP	WRITE	5916620000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1061301000
+MAP	SERIALIZE_OUTPUT	2349716000
+MAP	MAP_MEM	215021232
+SPILL	SORT_AND_SPILL	20640136000
+SPILL	QUICK_SORT	19201283000
+SPILL	SORT_COUNT	763522
+SPILL	COMBINE	0
+SPILL	WRITE	1438853000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	28281391
+SPILL	COMPRESS_BYTE_COUNT	28281499
+MERGE	TOTAL_MERGE	1642000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	39420842000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00191	0
+MAP	STARTUP_MEM	216106136
+MAP	SETUP	766000
+MAP	SETUP_MEM	216106136
+MAP	CLEANUP	105000
+MAP	CLEANUP_MEM	221063128
+MAP	TOTAL_RUN	18090335000
+MAP	READ	7182313000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	369432
+MAP	VALUE_BYTE_COUNT	134063926
+MAP	MAP	10457985000
+MAP	WRITE	4815255000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	639430000
+MAP	SERIALIZE_OUTPUT	1544114000
+MAP	MAP_MEM	221063128
+SPILL	SORT_AND_SPILL	15421227000
+SPILL	QUICK_SORT	14245956000
+SPILL	SORT_COUNT	611305
+SPILL	COMBINE	0
+SPILL	WRITE	1175271000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	21497734
+SPILL	COMPRESS_BYTE_COUNT	21497842
+MERGE	TOTAL_MERGE	1457000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	34492141000
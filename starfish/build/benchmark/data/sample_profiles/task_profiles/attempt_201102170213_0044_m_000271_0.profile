@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00154	0
+MAP	STARTUP_MEM	215303880
+MAP	SETUP	492000
+MAP	SETUP_MEM	215303880
+MAP	CLEANUP	98000
+MAP	CLEANUP_MEM	216358432
+MAP	TOTAL_RUN	17920051000
+MAP	READ	6593721000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	398664
+MAP	VALUE_BYTE_COUNT	134066822
+MAP	MAP	11051132000
+MAP	WRITE	5302910000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	841905000
+MAP	SERIALIZE_OUTPUT	2325645000
+MAP	MAP_MEM	216358432
+SPILL	SORT_AND_SPILL	16677287000
+SPILL	QUICK_SORT	15385578000
+SPILL	SORT_COUNT	665632
+SPILL	COMBINE	0
+SPILL	WRITE	1291709000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	23331918
+SPILL	COMPRESS_BYTE_COUNT	23332026
+MERGE	TOTAL_MERGE	1682000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	35095747000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00198	0
+MAP	STARTUP_MEM	214462240
+MAP	SETUP	455000
+MAP	SETUP_MEM	214462240
+MAP	CLEANUP	101000
+MAP	CLEANUP_MEM	235906912
+MAP	TOTAL_RUN	18047529000
+MAP	READ	6190828000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	354914
+MAP	VALUE_BYTE_COUNT	134068224
+MAP	MAP	11671186000
+MAP	WRITE	4950021000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	499077000
+MAP	SERIALIZE_OUTPUT	1714239000
+MAP	MAP_MEM	235906912
+SPILL	SORT_AND_SPILL	15222444000
+SPILL	QUICK_SORT	14033404000
+SPILL	SORT_COUNT	579808
+SPILL	COMBINE	0
+SPILL	WRITE	1189040000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	20440257
+SPILL	COMPRESS_BYTE_COUNT	20440365
+MERGE	TOTAL_MERGE	1571000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	38719205000
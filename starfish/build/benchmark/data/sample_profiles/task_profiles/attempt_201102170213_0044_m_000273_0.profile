@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00211	0
+MAP	STARTUP_MEM	214501720
+MAP	SETUP	458000
+MAP	SETUP_MEM	214501720
+MAP	CLEANUP	103000
+MAP	CLEANUP_MEM	233193056
+MAP	TOTAL_RUN	15580775000
+MAP	READ	6297179000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	462840
+MAP	VALUE_BYTE_COUNT	134038644
+MAP	MAP	9062795000
+MAP	WRITE	3295526000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	552611000
+MAP	SERIALIZE_OUTPUT	1332186000
+MAP	MAP_MEM	233193056
+SPILL	SORT_AND_SPILL	16037127000
+SPILL	QUICK_SORT	14830972000
+SPILL	SORT_COUNT	612225
+SPILL	COMBINE	0
+SPILL	WRITE	1206155000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	21886924
+SPILL	COMPRESS_BYTE_COUNT	21887032
+MERGE	TOTAL_MERGE	1650000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	32132848000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00176	0
+MAP	STARTUP_MEM	216158928
+MAP	SETUP	491000
+MAP	SETUP_MEM	216158928
+MAP	CLEANUP	110000
+MAP	CLEANUP_MEM	246702784
+MAP	TOTAL_RUN	19892505000
+MAP	READ	7614911000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	385455
+MAP	VALUE_BYTE_COUNT	134036294
+MAP	MAP	11893983000
+MAP	WRITE	4265987000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	541289000
+MAP	SERIALIZE_OUTPUT	2056067000
+MAP	MAP_MEM	246702784
+SPILL	SORT_AND_SPILL	15377399000
+SPILL	QUICK_SORT	14045130000
+SPILL	SORT_COUNT	646330
+SPILL	COMBINE	0
+SPILL	WRITE	1332269000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	22691526
+SPILL	COMPRESS_BYTE_COUNT	22691634
+MERGE	TOTAL_MERGE	1498000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	38687763000
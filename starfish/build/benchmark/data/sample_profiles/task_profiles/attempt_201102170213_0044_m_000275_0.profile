@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00115	0
+MAP	STARTUP_MEM	215267656
+MAP	SETUP	538000
+MAP	SETUP_MEM	215267656
+MAP	CLEANUP	100000
+MAP	CLEANUP_MEM	218552240
+MAP	TOTAL_RUN	17536027000
+MAP	READ	6019040000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	388577
+MAP	VALUE_BYTE_COUNT	133993983
+MAP	MAP	11164218000
+MAP	WRITE	5319527000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	893048000
+MAP	SERIALIZE_OUTPUT	1905943000
+MAP	MAP_MEM	219114400
+SPILL	SORT_AND_SPILL	15478079184
+SPILL	QUICK_SORT	13813228000
+SPILL	SORT_COUNT	722269
+SPILL	COMBINE	0
+SPILL	WRITE	1664851184
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	24011626
+SPILL	COMPRESS_BYTE_COUNT	24011734
+MERGE	TOTAL_MERGE	1517000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	33790727184
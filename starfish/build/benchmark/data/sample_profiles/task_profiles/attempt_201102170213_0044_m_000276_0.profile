@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00187	0
+MAP	STARTUP_MEM	216348528
+MAP	SETUP	599000
+MAP	SETUP_MEM	216348528
+MAP	CLEANUP	96000
+MAP	CLEANUP_MEM	227208120
+MAP	TOTAL_RUN	21607886000
+MAP	READ	8561391000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	363629
+MAP	VALUE_BYTE_COUNT	133972018
+MAP	MAP	12812205000
+MAP	WRITE	5825139000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	597558000
+MAP	SERIALIZE_OUTPUT	1420372000
+MAP	MAP_MEM	228063768
+SPILL	SORT_AND_SPILL	13442203000
+SPILL	QUICK_SORT	12234284000
+SPILL	SORT_COUNT	623969
+SPILL	COMBINE	0
+SPILL	WRITE	1207919000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	21859806
+SPILL	COMPRESS_BYTE_COUNT	21859914
+MERGE	TOTAL_MERGE	4122000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	35650410000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00151	0
+MAP	STARTUP_MEM	215291360
+MAP	SETUP	531000
+MAP	SETUP_MEM	215291360
+MAP	CLEANUP	98000
+MAP	CLEANUP_MEM	242669872
+MAP	TOTAL_RUN	15942903184
+MAP	READ	5727155000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	392658
+MAP	VALUE_BYTE_COUNT	133972499
+MAP	MAP	9879128184
+MAP	WRITE	4434983000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	660230000
+MAP	SERIALIZE_OUTPUT	1514015000
+MAP	MAP_MEM	243232032
+SPILL	SORT_AND_SPILL	14489184000
+SPILL	QUICK_SORT	12052803000
+SPILL	SORT_COUNT	620959
+SPILL	COMBINE	0
+SPILL	WRITE	2436381000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	21525013
+SPILL	COMPRESS_BYTE_COUNT	21525121
+MERGE	TOTAL_MERGE	1609000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	31109137184
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00173	0
+MAP	STARTUP_MEM	216076936
+MAP	SETUP	527000
+MAP	SETUP_MEM	216076936
+MAP	CLEANUP	101000
+MAP	CLEANUP_MEM	230206192
+MAP	TOTAL_RUN	15115302000
+MAP	READ	5913778000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	391223
+MAP	VALUE_BYTE_COUNT	134050333
+MAP	MAP	8994153000
+MAP	WRITE	4055190000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	854195000
+MAP	SERIALIZE_OUTPUT	1565074000
+MAP	MAP_MEM	231061832
+SPILL	SORT_AND_SPILL	13601807000
+SPILL	QUICK_SORT	12447289000
+SPILL	SORT_COUNT	628328
+SPILL	COMBINE	0
+SPILL	WRITE	1154518000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	21508078
+SPILL	COMPRESS_BYTE_COUNT	21508186
+MERGE	TOTAL_MERGE	1533000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	29304785000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00180	0
+MAP	STARTUP_MEM	214476192
+MAP	SETUP	460000
+MAP	SETUP_MEM	214476192
+MAP	CLEANUP	108000
+MAP	CLEANUP_MEM	213059656
+MAP	TOTAL_RUN	23244274000
+MAP	READ	9922297000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	372379
+MAP	VALUE_BYTE_COUNT	134151751
+MAP	MAP	13072867000
+MAP	WRITE	6459468000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	995791000
+MAP	SERIALIZE_OUTPUT	2305978000
+MAP	MAP_MEM	213059656
+SPILL	SORT_AND_SPILL	18130703000
+SPILL	QUICK_SORT	16717965000
+SPILL	SORT_COUNT	587633
+SPILL	COMBINE	0
+SPILL	WRITE	1412738000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	20817066
+SPILL	COMPRESS_BYTE_COUNT	20817174
+MERGE	TOTAL_MERGE	1776000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	41895236000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00192	0
+MAP	STARTUP_MEM	215314736
+MAP	SETUP	534000
+MAP	SETUP_MEM	215314736
+MAP	CLEANUP	106000
+MAP	CLEANUP_MEM	239478392
+MAP	TOTAL_RUN	17302742000
+MAP	READ	6145777000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	324660
+MAP	VALUE_BYTE_COUNT	134085029
+MAP	MAP	10937102000
+MAP	WRITE	5437106000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1407147000
+MAP	SERIALIZE_OUTPUT	1981728000
+MAP	MAP_MEM	239478392
+SPILL	SORT_AND_SPILL	15767452000
+SPILL	QUICK_SORT	14234875000
+SPILL	SORT_COUNT	668277
+SPILL	COMBINE	0
+SPILL	WRITE	1532577000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	23388325
+SPILL	COMPRESS_BYTE_COUNT	23388433
+MERGE	TOTAL_MERGE	1517000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	33643025000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00203	0
+MAP	STARTUP_MEM	214399864
+MAP	SETUP	435000
+MAP	SETUP_MEM	214399864
+MAP	CLEANUP	91000
+MAP	CLEANUP_MEM	222310432
+MAP	TOTAL_RUN	14649367000
+MAP	READ	5271871000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	397845
+MAP	VALUE_BYTE_COUNT	133985318
+MAP	MAP	9158979000
+MAP	WRITE	3866090000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	628469000
+MAP	SERIALIZE_OUTPUT	1737994000
+MAP	MAP_MEM	223166072
+SPILL	SORT_AND_SPILL	14093940000
+SPILL	QUICK_SORT	12548123000
+SPILL	SORT_COUNT	631055
+SPILL	COMBINE	0
+SPILL	WRITE	1545817000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	21953467
+SPILL	COMPRESS_BYTE_COUNT	21953575
+MERGE	TOTAL_MERGE	1437000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	29301057000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00212	0
+MAP	STARTUP_MEM	216092616
+MAP	SETUP	451000
+MAP	SETUP_MEM	216092616
+MAP	CLEANUP	89000
+MAP	CLEANUP_MEM	217386144
+MAP	TOTAL_RUN	16557868000
+MAP	READ	5902328000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	450824
+MAP	VALUE_BYTE_COUNT	134050851
+MAP	MAP	10443138000
+MAP	WRITE	3986073000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	544178000
+MAP	SERIALIZE_OUTPUT	1397985000
+MAP	MAP_MEM	218241784
+SPILL	SORT_AND_SPILL	13621272000
+SPILL	QUICK_SORT	12517026000
+SPILL	SORT_COUNT	592936
+SPILL	COMBINE	0
+SPILL	WRITE	1104246000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	21195489
+SPILL	COMPRESS_BYTE_COUNT	21195597
+MERGE	TOTAL_MERGE	1460000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	31000789000
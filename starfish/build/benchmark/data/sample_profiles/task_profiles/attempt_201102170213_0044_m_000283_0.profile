@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00194	0
+MAP	STARTUP_MEM	215276256
+MAP	SETUP	575000
+MAP	SETUP_MEM	215276256
+MAP	CLEANUP	97000
+MAP	CLEANUP_MEM	233089200
+MAP	TOTAL_RUN	17928418000
+MAP	READ	6490750000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	358078
+MAP	VALUE_BYTE_COUNT	134065560
+MAP	MAP	10984988000
+MAP	WRITE	5161350000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	764195000
+MAP	SERIALIZE_OUTPUT	2216879000
+MAP	MAP_MEM	233089200
+SPILL	SORT_AND_SPILL	14168415000
+SPILL	QUICK_SORT	12783417000
+SPILL	SORT_COUNT	552483
+SPILL	COMBINE	0
+SPILL	WRITE	1384998000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	19676193
+SPILL	COMPRESS_BYTE_COUNT	19676301
+MERGE	TOTAL_MERGE	1632000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	32688205000
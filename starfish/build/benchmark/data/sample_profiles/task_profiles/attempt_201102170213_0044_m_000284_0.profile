@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00170	0
+MAP	STARTUP_MEM	216153392
+MAP	SETUP	477000
+MAP	SETUP_MEM	216153392
+MAP	CLEANUP	98000
+MAP	CLEANUP_MEM	239667304
+MAP	TOTAL_RUN	15087102000
+MAP	READ	5159100000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	381619
+MAP	VALUE_BYTE_COUNT	134052454
+MAP	MAP	9605322000
+MAP	WRITE	4122632000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	727294000
+MAP	SERIALIZE_OUTPUT	1757815000
+MAP	MAP_MEM	239667304
+SPILL	SORT_AND_SPILL	15926480000
+SPILL	QUICK_SORT	14235511000
+SPILL	SORT_COUNT	733074
+SPILL	COMBINE	0
+SPILL	WRITE	1690969000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	25147760
+SPILL	COMPRESS_BYTE_COUNT	25147868
+MERGE	TOTAL_MERGE	1421000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	32790583000
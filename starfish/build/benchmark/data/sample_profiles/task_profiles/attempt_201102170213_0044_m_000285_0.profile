@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00185	0
+MAP	STARTUP_MEM	215249800
+MAP	SETUP	492000
+MAP	SETUP_MEM	215249800
+MAP	CLEANUP	121000
+MAP	CLEANUP_MEM	234887296
+MAP	TOTAL_RUN	16668789000
+MAP	READ	7500584000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	370573
+MAP	VALUE_BYTE_COUNT	134059072
+MAP	MAP	8967435000
+MAP	WRITE	4167926000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	490909000
+MAP	SERIALIZE_OUTPUT	1272086000
+MAP	MAP_MEM	234887296
+SPILL	SORT_AND_SPILL	14890546000
+SPILL	QUICK_SORT	13684095000
+SPILL	SORT_COUNT	569697
+SPILL	COMBINE	0
+SPILL	WRITE	1206451000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	20045541
+SPILL	COMPRESS_BYTE_COUNT	20045649
+MERGE	TOTAL_MERGE	1604000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	32464061000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00186	0
+MAP	STARTUP_MEM	215257264
+MAP	SETUP	511000
+MAP	SETUP_MEM	215257264
+MAP	CLEANUP	102000
+MAP	CLEANUP_MEM	240876744
+MAP	TOTAL_RUN	21428938126
+MAP	READ	7124813000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	373870
+MAP	VALUE_BYTE_COUNT	134147164
+MAP	MAP	13778030126
+MAP	WRITE	7142109126
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	769814000
+MAP	SERIALIZE_OUTPUT	1935372000
+MAP	MAP_MEM	241438904
+SPILL	SORT_AND_SPILL	20060022000
+SPILL	QUICK_SORT	18183091000
+SPILL	SORT_COUNT	672899
+SPILL	COMBINE	0
+SPILL	WRITE	1876931000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	23538545
+SPILL	COMPRESS_BYTE_COUNT	23538653
+MERGE	TOTAL_MERGE	1508000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	42490901126
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00153	0
+MAP	STARTUP_MEM	214612680
+MAP	SETUP	453000
+MAP	SETUP_MEM	214612680
+MAP	CLEANUP	94000
+MAP	CLEANUP_MEM	213017176
+MAP	TOTAL_RUN	18952660000
+MAP	READ	6878513000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	371287
+MAP	VALUE_BYTE_COUNT	134054457
+MAP	MAP	11505101000
+MAP	WRITE	3878455000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	759337000
+MAP	SERIALIZE_OUTPUT	1609422000
+MAP	MAP_MEM	213579336
+SPILL	SORT_AND_SPILL	17719964000
+SPILL	QUICK_SORT	13006265000
+SPILL	SORT_COUNT	674472
+SPILL	COMBINE	0
+SPILL	WRITE	4713699000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	23562169
+SPILL	COMPRESS_BYTE_COUNT	23562277
+MERGE	TOTAL_MERGE	1726000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	37882146000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00182	0
+MAP	STARTUP_MEM	214378544
+MAP	SETUP	468000
+MAP	SETUP_MEM	214378544
+MAP	CLEANUP	94000
+MAP	CLEANUP_MEM	221946968
+MAP	TOTAL_RUN	16340217000
+MAP	READ	6226076000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	361893
+MAP	VALUE_BYTE_COUNT	134064420
+MAP	MAP	9727150000
+MAP	WRITE	4513619000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	593973000
+MAP	SERIALIZE_OUTPUT	1706966000
+MAP	MAP_MEM	221946968
+SPILL	SORT_AND_SPILL	18236370000
+SPILL	QUICK_SORT	14056142000
+SPILL	SORT_COUNT	635406
+SPILL	COMBINE	0
+SPILL	WRITE	4180228000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	22892920
+SPILL	COMPRESS_BYTE_COUNT	22893028
+MERGE	TOTAL_MERGE	1426000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	36085784000
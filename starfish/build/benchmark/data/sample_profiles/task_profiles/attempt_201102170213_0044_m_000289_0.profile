@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00137	0
+MAP	STARTUP_MEM	216148944
+MAP	SETUP	473000
+MAP	SETUP_MEM	216148944
+MAP	CLEANUP	103000
+MAP	CLEANUP_MEM	241551688
+MAP	TOTAL_RUN	14882937000
+MAP	READ	5246731000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	414204
+MAP	VALUE_BYTE_COUNT	134029389
+MAP	MAP	9421155000
+MAP	WRITE	4186938000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	560951000
+MAP	SERIALIZE_OUTPUT	1389042000
+MAP	MAP_MEM	241551688
+SPILL	SORT_AND_SPILL	14571986000
+SPILL	QUICK_SORT	13342095000
+SPILL	SORT_COUNT	631897
+SPILL	COMBINE	0
+SPILL	WRITE	1229891000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	22302829
+SPILL	COMPRESS_BYTE_COUNT	22302937
+MERGE	TOTAL_MERGE	1670000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	29885951000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00208	0
+MAP	STARTUP_MEM	216379640
+MAP	SETUP	466000
+MAP	SETUP_MEM	216379640
+MAP	CLEANUP	99000
+MAP	CLEANUP_MEM	227625848
+MAP	TOTAL_RUN	16127143000
+MAP	READ	5938828000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	402458
+MAP	VALUE_BYTE_COUNT	134929190
+MAP	MAP	9586121000
+MAP	WRITE	5063365000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	534897000
+MAP	SERIALIZE_OUTPUT	3192043000
+MAP	MAP_MEM	227625848
+SPILL	SORT_AND_SPILL	14389494000
+SPILL	QUICK_SORT	13246127000
+SPILL	SORT_COUNT	596187
+SPILL	COMBINE	0
+SPILL	WRITE	1143367000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	21495013
+SPILL	COMPRESS_BYTE_COUNT	21495121
+MERGE	TOTAL_MERGE	2111000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	30975908000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00135	0
+MAP	STARTUP_MEM	216146912
+MAP	SETUP	470000
+MAP	SETUP_MEM	216146912
+MAP	CLEANUP	104000
+MAP	CLEANUP_MEM	221911088
+MAP	TOTAL_RUN	15024389000
+MAP	READ	6251017000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	396060
+MAP	VALUE_BYTE_COUNT	134049858
+MAP	MAP	8570100000
+MAP	WRITE	3129403000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	528889000
+MAP	SERIALIZE_OUTPUT	1274949000
+MAP	MAP_MEM	221911088
+SPILL	SORT_AND_SPILL	13455302000
+SPILL	QUICK_SORT	12204033000
+SPILL	SORT_COUNT	600044
+SPILL	COMBINE	0
+SPILL	WRITE	1251269000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	21321794
+SPILL	COMPRESS_BYTE_COUNT	21321902
+MERGE	TOTAL_MERGE	1733000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	28940899000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00131	0
+MAP	STARTUP_MEM	214595432
+MAP	SETUP	419000
+MAP	SETUP_MEM	214595432
+MAP	CLEANUP	97000
+MAP	CLEANUP_MEM	223599216
+MAP	TOTAL_RUN	14510685000
+MAP	READ	5742399000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	380219
+MAP	VALUE_BYTE_COUNT	134055048
+MAP	MAP	8540460000
+MAP	WRITE	3390732000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	540095000
+MAP	SERIALIZE_OUTPUT	1375720000
+MAP	MAP_MEM	224161376
+SPILL	SORT_AND_SPILL	15214621000
+SPILL	QUICK_SORT	13773969000
+SPILL	SORT_COUNT	590951
+SPILL	COMBINE	0
+SPILL	WRITE	1440652000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	20800836
+SPILL	COMPRESS_BYTE_COUNT	20800944
+MERGE	TOTAL_MERGE	1538000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	30407221000
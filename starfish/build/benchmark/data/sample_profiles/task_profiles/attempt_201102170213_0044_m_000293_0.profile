@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00159	0
+MAP	STARTUP_MEM	216160344
+MAP	SETUP	497000
+MAP	SETUP_MEM	216160344
+MAP	CLEANUP	111000
+MAP	CLEANUP_MEM	223445240
+MAP	TOTAL_RUN	17190131000
+MAP	READ	5913340000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	517545
+MAP	VALUE_BYTE_COUNT	133994880
+MAP	MAP	10894475000
+MAP	WRITE	4974533000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	764279000
+MAP	SERIALIZE_OUTPUT	2312476000
+MAP	MAP_MEM	224300880
+SPILL	SORT_AND_SPILL	16953184000
+SPILL	QUICK_SORT	15510032000
+SPILL	SORT_COUNT	701435
+SPILL	COMBINE	0
+SPILL	WRITE	1443152000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	24422070
+SPILL	COMPRESS_BYTE_COUNT	24422178
+MERGE	TOTAL_MERGE	1768000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	34726760000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00128	0
+MAP	STARTUP_MEM	216195872
+MAP	SETUP	472000
+MAP	SETUP_MEM	216195872
+MAP	CLEANUP	93000
+MAP	CLEANUP_MEM	235013760
+MAP	TOTAL_RUN	19382088000
+MAP	READ	6392871000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	425467
+MAP	VALUE_BYTE_COUNT	133886401
+MAP	MAP	12758742000
+MAP	WRITE	5522797000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	552277000
+MAP	SERIALIZE_OUTPUT	1612276000
+MAP	MAP_MEM	235869400
+SPILL	SORT_AND_SPILL	13385119000
+SPILL	QUICK_SORT	12006646000
+SPILL	SORT_COUNT	614454
+SPILL	COMBINE	0
+SPILL	WRITE	1378473000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	22062300
+SPILL	COMPRESS_BYTE_COUNT	22062408
+MERGE	TOTAL_MERGE	1462000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	33499983000
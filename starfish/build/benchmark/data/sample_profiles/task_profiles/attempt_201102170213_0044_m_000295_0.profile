@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00196	0
+MAP	STARTUP_MEM	215302672
+MAP	SETUP	514000
+MAP	SETUP_MEM	215302672
+MAP	CLEANUP	106000
+MAP	CLEANUP_MEM	233219456
+MAP	TOTAL_RUN	22874283000
+MAP	READ	7267317000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	409633
+MAP	VALUE_BYTE_COUNT	133910342
+MAP	MAP	15333905000
+MAP	WRITE	6828484000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	3342274000
+MAP	SERIALIZE_OUTPUT	1530551000
+MAP	MAP_MEM	233781616
+SPILL	SORT_AND_SPILL	22146876000
+SPILL	QUICK_SORT	20336328000
+SPILL	SORT_COUNT	625014
+SPILL	COMBINE	0
+SPILL	WRITE	1810548000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	22683562
+SPILL	COMPRESS_BYTE_COUNT	22683670
+MERGE	TOTAL_MERGE	1750000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	45520454000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00183	0
+MAP	STARTUP_MEM	216076096
+MAP	SETUP	485000
+MAP	SETUP_MEM	216076096
+MAP	CLEANUP	95000
+MAP	CLEANUP_MEM	211003824
+MAP	TOTAL_RUN	15660244000
+MAP	READ	5727921000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	382809
+MAP	VALUE_BYTE_COUNT	134051799
+MAP	MAP	9664279000
+MAP	WRITE	4312998000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	733685000
+MAP	SERIALIZE_OUTPUT	1793417000
+MAP	MAP_MEM	212242384
+SPILL	SORT_AND_SPILL	20759280000
+SPILL	QUICK_SORT	18495518000
+SPILL	SORT_COUNT	778501
+SPILL	COMBINE	0
+SPILL	WRITE	2263762000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	27579919
+SPILL	COMPRESS_BYTE_COUNT	27580027
+MERGE	TOTAL_MERGE	1789000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	41499704000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00172	0
+MAP	STARTUP_MEM	216137192
+MAP	SETUP	540000
+MAP	SETUP_MEM	216137192
+MAP	CLEANUP	104000
+MAP	CLEANUP_MEM	214213136
+MAP	TOTAL_RUN	17050703000
+MAP	READ	6531235000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	388549
+MAP	VALUE_BYTE_COUNT	134051389
+MAP	MAP	10220154000
+MAP	WRITE	4248289000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	737726000
+MAP	SERIALIZE_OUTPUT	1848106000
+MAP	MAP_MEM	214213136
+SPILL	SORT_AND_SPILL	19704564000
+SPILL	QUICK_SORT	18336314000
+SPILL	SORT_COUNT	693708
+SPILL	COMBINE	0
+SPILL	WRITE	1368250000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	24486609
+SPILL	COMPRESS_BYTE_COUNT	24486717
+MERGE	TOTAL_MERGE	1967000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	37364298000
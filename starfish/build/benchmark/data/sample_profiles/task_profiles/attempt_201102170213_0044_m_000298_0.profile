@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00150	0
+MAP	STARTUP_MEM	216120328
+MAP	SETUP	479000
+MAP	SETUP_MEM	216120328
+MAP	CLEANUP	99000
+MAP	CLEANUP_MEM	238335240
+MAP	TOTAL_RUN	16370692000
+MAP	READ	6032310000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	374857
+MAP	VALUE_BYTE_COUNT	134137173
+MAP	MAP	10135285000
+MAP	WRITE	3555139000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	668880000
+MAP	SERIALIZE_OUTPUT	1424444000
+MAP	MAP_MEM	238335240
+SPILL	SORT_AND_SPILL	13820559000
+SPILL	QUICK_SORT	12249452000
+SPILL	SORT_COUNT	663567
+SPILL	COMBINE	0
+SPILL	WRITE	1571107000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	23211982
+SPILL	COMPRESS_BYTE_COUNT	23212090
+MERGE	TOTAL_MERGE	1673000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	30831844000
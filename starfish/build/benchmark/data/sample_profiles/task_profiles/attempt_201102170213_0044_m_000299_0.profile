@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files1/part-00108	0
+MAP	STARTUP_MEM	214437056
+MAP	SETUP	548000
+MAP	SETUP_MEM	214437056
+MAP	CLEANUP	98000
+MAP	CLEANUP_MEM	217772216
+MAP	TOTAL_RUN	13425960000
+MAP	READ	5238197000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	456640
+MAP	VALUE_BYTE_COUNT	140574034
+MAP	MAP	7974550000
+MAP	WRITE	3230253000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	557830000
+MAP	SERIALIZE_OUTPUT	1216073000
+MAP	MAP_MEM	218334376
+SPILL	SORT_AND_SPILL	13317300000
+SPILL	QUICK_SORT	12277822000
+SPILL	SORT_COUNT	556515
+SPILL	COMBINE	0
+SPILL	WRITE	1039478000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	19938039
+SPILL	COMPRESS_BYTE_COUNT	19938147
+MERGE	TOTAL_MERGE	1530000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	27316319000
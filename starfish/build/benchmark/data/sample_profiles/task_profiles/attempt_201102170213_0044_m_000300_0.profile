@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00000	0
+MAP	STARTUP_MEM	214432352
+MAP	SETUP	442000
+MAP	SETUP_MEM	214432352
+MAP	CLEANUP	115000
+MAP	CLEANUP_MEM	221164088
+MAP	TOTAL_RUN	18460658000
+MAP	READ	7444043000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	456640
+MAP	VALUE_BYTE_COUNT	140574034
+MAP	MAP	10756062000
+MAP	WRITE	4212366000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	755329000
+MAP	SERIALIZE_OUTPUT	1349251000
+MAP	MAP_MEM	221164088
+SPILL	SORT_AND_SPILL	12598707000
+SPILL	QUICK_SORT	11390893000
+SPILL	SORT_COUNT	556515
+SPILL	COMBINE	0
+SPILL	WRITE	1207814000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	19938039
+SPILL	COMPRESS_BYTE_COUNT	19938147
+MERGE	TOTAL_MERGE	1486000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	31739807000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00195	0
+MAP	STARTUP_MEM	215287368
+MAP	SETUP	497000
+MAP	SETUP_MEM	215287368
+MAP	CLEANUP	95000
+MAP	CLEANUP_MEM	243601832
+MAP	TOTAL_RUN	24725042000
+MAP	READ	9250829000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	365071
+MAP	VALUE_BYTE_COUNT	134192947
+MAP	MAP	15238423000
+MAP	WRITE	6853016000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	1674756000
+MAP	SERIALIZE_OUTPUT	1756989000
+MAP	MAP_MEM	243601832
+SPILL	SORT_AND_SPILL	19435317000
+SPILL	QUICK_SORT	18015946000
+SPILL	SORT_COUNT	592961
+SPILL	COMBINE	0
+SPILL	WRITE	1419371000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	20947339
+SPILL	COMPRESS_BYTE_COUNT	20947447
+MERGE	TOTAL_MERGE	1729000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	44997853000
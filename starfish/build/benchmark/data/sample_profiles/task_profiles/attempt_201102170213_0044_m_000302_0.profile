@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00174	0
+MAP	STARTUP_MEM	214456976
+MAP	SETUP	459000
+MAP	SETUP_MEM	214456976
+MAP	CLEANUP	104000
+MAP	CLEANUP_MEM	229280968
+MAP	TOTAL_RUN	17474652000
+MAP	READ	6080187000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	408408
+MAP	VALUE_BYTE_COUNT	134436125
+MAP	MAP	11184854000
+MAP	WRITE	4835698000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	532619000
+MAP	SERIALIZE_OUTPUT	1368461000
+MAP	MAP_MEM	229280968
+SPILL	SORT_AND_SPILL	13167419000
+SPILL	QUICK_SORT	12011273000
+SPILL	SORT_COUNT	603562
+SPILL	COMBINE	0
+SPILL	WRITE	1156146000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	20725150
+SPILL	COMPRESS_BYTE_COUNT	20725258
+MERGE	TOTAL_MERGE	1473000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	31285076000
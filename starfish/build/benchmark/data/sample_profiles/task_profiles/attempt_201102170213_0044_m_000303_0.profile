@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00206	0
+MAP	STARTUP_MEM	214443088
+MAP	SETUP	432000
+MAP	SETUP_MEM	214443088
+MAP	CLEANUP	94000
+MAP	CLEANUP_MEM	239139416
+MAP	TOTAL_RUN	24995259000
+MAP	READ	8069684000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	384972
+MAP	VALUE_BYTE_COUNT	134053507
+MAP	MAP	16718614000
+MAP	WRITE	10664035000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	2730296000
+MAP	SERIALIZE_OUTPUT	4765206000
+MAP	MAP_MEM	239139416
+SPILL	SORT_AND_SPILL	16564182000
+SPILL	QUICK_SORT	15446500000
+SPILL	SORT_COUNT	578592
+SPILL	COMBINE	0
+SPILL	WRITE	1117682000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	20677897
+SPILL	COMPRESS_BYTE_COUNT	20678005
+MERGE	TOTAL_MERGE	1430000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	44083469000
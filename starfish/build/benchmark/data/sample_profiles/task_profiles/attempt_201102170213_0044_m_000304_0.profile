@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00136	0
+MAP	STARTUP_MEM	214471472
+MAP	SETUP	429000
+MAP	SETUP_MEM	214471472
+MAP	CLEANUP	90000
+MAP	CLEANUP_MEM	230771208
+MAP	TOTAL_RUN	19210781000
+MAP	READ	11792965000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	320922
+MAP	VALUE_BYTE_COUNT	134108914
+MAP	MAP	7215724000
+MAP	WRITE	3047032000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	487068000
+MAP	SERIALIZE_OUTPUT	1238421000
+MAP	MAP_MEM	230771208
+SPILL	SORT_AND_SPILL	12624350000
+SPILL	QUICK_SORT	11310639000
+SPILL	SORT_COUNT	544568
+SPILL	COMBINE	0
+SPILL	WRITE	1313711000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	18998678
+SPILL	COMPRESS_BYTE_COUNT	18998786
+MERGE	TOTAL_MERGE	1571000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	32429822000
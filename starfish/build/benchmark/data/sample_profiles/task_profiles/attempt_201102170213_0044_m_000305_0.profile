@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00158	0
+MAP	STARTUP_MEM	216345888
+MAP	SETUP	574000
+MAP	SETUP_MEM	216345888
+MAP	CLEANUP	93000
+MAP	CLEANUP_MEM	227024680
+MAP	TOTAL_RUN	24218375000
+MAP	READ	14106486000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	430129
+MAP	VALUE_BYTE_COUNT	134031440
+MAP	MAP	9375408000
+MAP	WRITE	3642592000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	566781000
+MAP	SERIALIZE_OUTPUT	1395433000
+MAP	MAP_MEM	227024680
+SPILL	SORT_AND_SPILL	17624337000
+SPILL	QUICK_SORT	15477634000
+SPILL	SORT_COUNT	617352
+SPILL	COMBINE	0
+SPILL	WRITE	2146703000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	21480005
+SPILL	COMPRESS_BYTE_COUNT	21480113
+MERGE	TOTAL_MERGE	1504000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	42461017000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00155	0
+MAP	STARTUP_MEM	214417368
+MAP	SETUP	445000
+MAP	SETUP_MEM	214417368
+MAP	CLEANUP	119000
+MAP	CLEANUP_MEM	216237096
+MAP	TOTAL_RUN	15527735000
+MAP	READ	5922220000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	396158
+MAP	VALUE_BYTE_COUNT	134121438
+MAP	MAP	9396219000
+MAP	WRITE	3741936000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	594840000
+MAP	SERIALIZE_OUTPUT	1556174000
+MAP	MAP_MEM	216237096
+SPILL	SORT_AND_SPILL	17374153000
+SPILL	QUICK_SORT	14795530000
+SPILL	SORT_COUNT	716220
+SPILL	COMBINE	0
+SPILL	WRITE	2578623000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	24710670
+SPILL	COMPRESS_BYTE_COUNT	24710778
+MERGE	TOTAL_MERGE	1490000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	33564601000
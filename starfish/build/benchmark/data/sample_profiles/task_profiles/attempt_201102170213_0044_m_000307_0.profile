@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00164	0
+MAP	STARTUP_MEM	215276168
+MAP	SETUP	534000
+MAP	SETUP_MEM	215276168
+MAP	CLEANUP	98000
+MAP	CLEANUP_MEM	234942704
+MAP	TOTAL_RUN	18036908000
+MAP	READ	7317873000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	368305
+MAP	VALUE_BYTE_COUNT	134060246
+MAP	MAP	10335543000
+MAP	WRITE	4088708000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	949994000
+MAP	SERIALIZE_OUTPUT	1460645000
+MAP	MAP_MEM	234942704
+SPILL	SORT_AND_SPILL	13233986848
+SPILL	QUICK_SORT	12025804000
+SPILL	SORT_COUNT	554187
+SPILL	COMBINE	0
+SPILL	WRITE	1208182848
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	19378654
+SPILL	COMPRESS_BYTE_COUNT	19378762
+MERGE	TOTAL_MERGE	1504000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	31810555848
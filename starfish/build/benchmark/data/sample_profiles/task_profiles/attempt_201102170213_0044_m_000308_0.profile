@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00204	0
+MAP	STARTUP_MEM	215291072
+MAP	SETUP	474000
+MAP	SETUP_MEM	215291072
+MAP	CLEANUP	103000
+MAP	CLEANUP_MEM	230659328
+MAP	TOTAL_RUN	22651483000
+MAP	READ	10600472000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	444115
+MAP	VALUE_BYTE_COUNT	134027203
+MAP	MAP	11780781000
+MAP	WRITE	6498348000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	714399000
+MAP	SERIALIZE_OUTPUT	3411166000
+MAP	MAP_MEM	230659328
+SPILL	SORT_AND_SPILL	17517523000
+SPILL	QUICK_SORT	16420657000
+SPILL	SORT_COUNT	637163
+SPILL	COMBINE	0
+SPILL	WRITE	1096866000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	22068318
+SPILL	COMPRESS_BYTE_COUNT	22068426
+MERGE	TOTAL_MERGE	1564000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	40626854000
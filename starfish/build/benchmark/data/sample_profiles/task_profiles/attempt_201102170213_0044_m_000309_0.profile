@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00120	0
+MAP	STARTUP_MEM	214646528
+MAP	SETUP	451000
+MAP	SETUP_MEM	214646528
+MAP	CLEANUP	113000
+MAP	CLEANUP_MEM	220067104
+MAP	TOTAL_RUN	14569490000
+MAP	READ	5565227000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	356846
+MAP	VALUE_BYTE_COUNT	133418204
+MAP	MAP	8798483000
+MAP	WRITE	3371836000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	604480000
+MAP	SERIALIZE_OUTPUT	1352417000
+MAP	MAP_MEM	220067104
+SPILL	SORT_AND_SPILL	17377724000
+SPILL	QUICK_SORT	13721675000
+SPILL	SORT_COUNT	617470
+SPILL	COMBINE	0
+SPILL	WRITE	3656049000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	21486923
+SPILL	COMPRESS_BYTE_COUNT	21487031
+MERGE	TOTAL_MERGE	1613000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	32465816000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00171	0
+MAP	STARTUP_MEM	215436064
+MAP	SETUP	558000
+MAP	SETUP_MEM	215436064
+MAP	CLEANUP	104000
+MAP	CLEANUP_MEM	234993688
+MAP	TOTAL_RUN	15177946000
+MAP	READ	6393728000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	356454
+MAP	VALUE_BYTE_COUNT	134065144
+MAP	MAP	8543812000
+MAP	WRITE	3808285000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	696679000
+MAP	SERIALIZE_OUTPUT	1668322000
+MAP	MAP_MEM	234993688
+SPILL	SORT_AND_SPILL	14366807000
+SPILL	QUICK_SORT	13233297000
+SPILL	SORT_COUNT	645422
+SPILL	COMBINE	0
+SPILL	WRITE	1133510000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	22552656
+SPILL	COMPRESS_BYTE_COUNT	22552764
+MERGE	TOTAL_MERGE	1732000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	30259516000
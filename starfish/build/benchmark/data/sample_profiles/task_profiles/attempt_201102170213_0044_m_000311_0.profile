@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00216	0
+MAP	STARTUP_MEM	214627752
+MAP	SETUP	456000
+MAP	SETUP_MEM	214627752
+MAP	CLEANUP	133000
+MAP	CLEANUP_MEM	212988288
+MAP	TOTAL_RUN	16628534000
+MAP	READ	5351093000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	485696
+MAP	VALUE_BYTE_COUNT	134035354
+MAP	MAP	10905362000
+MAP	WRITE	3450845000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	579328000
+MAP	SERIALIZE_OUTPUT	1457648000
+MAP	MAP_MEM	212988288
+SPILL	SORT_AND_SPILL	16269001000
+SPILL	QUICK_SORT	14299698000
+SPILL	SORT_COUNT	595254
+SPILL	COMBINE	0
+SPILL	WRITE	1969303000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	21087762
+SPILL	COMPRESS_BYTE_COUNT	21087870
+MERGE	TOTAL_MERGE	1745000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	34249146000
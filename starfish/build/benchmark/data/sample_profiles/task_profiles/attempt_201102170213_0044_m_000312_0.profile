@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00207	0
+MAP	STARTUP_MEM	215316664
+MAP	SETUP	554000
+MAP	SETUP_MEM	215316664
+MAP	CLEANUP	104000
+MAP	CLEANUP_MEM	243915464
+MAP	TOTAL_RUN	15165300000
+MAP	READ	5943751000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	464009
+MAP	VALUE_BYTE_COUNT	134017100
+MAP	MAP	8909212000
+MAP	WRITE	3524906000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	597676000
+MAP	SERIALIZE_OUTPUT	1517423000
+MAP	MAP_MEM	243915464
+SPILL	SORT_AND_SPILL	15934800000
+SPILL	QUICK_SORT	14747967000
+SPILL	SORT_COUNT	624650
+SPILL	COMBINE	0
+SPILL	WRITE	1186833000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	23224008
+SPILL	COMPRESS_BYTE_COUNT	23224116
+MERGE	TOTAL_MERGE	1466000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	31603713000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00205	0
+MAP	STARTUP_MEM	215308656
+MAP	SETUP	489000
+MAP	SETUP_MEM	215308656
+MAP	CLEANUP	99000
+MAP	CLEANUP_MEM	217437584
+MAP	TOTAL_RUN	19170245666
+MAP	READ	6495441000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	454811
+MAP	VALUE_BYTE_COUNT	134023828
+MAP	MAP	12379291666
+MAP	WRITE	4967670000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	834095000
+MAP	SERIALIZE_OUTPUT	2053029000
+MAP	MAP_MEM	217437584
+SPILL	SORT_AND_SPILL	17553563000
+SPILL	QUICK_SORT	15987513000
+SPILL	SORT_COUNT	686884
+SPILL	COMBINE	0
+SPILL	WRITE	1566050000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	24598500
+SPILL	COMPRESS_BYTE_COUNT	24598608
+MERGE	TOTAL_MERGE	2032000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	37275525666
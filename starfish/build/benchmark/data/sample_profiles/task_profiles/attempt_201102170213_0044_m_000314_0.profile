@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00132	0
+MAP	STARTUP_MEM	214447896
+MAP	SETUP	461000
+MAP	SETUP_MEM	214447896
+MAP	CLEANUP	113000
+MAP	CLEANUP_MEM	211008144
+MAP	TOTAL_RUN	22921940666
+MAP	READ	9554298000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	408954
+MAP	VALUE_BYTE_COUNT	134044655
+MAP	MAP	12915243666
+MAP	WRITE	7187701666
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	633080000
+MAP	SERIALIZE_OUTPUT	3462008666
+MAP	MAP_MEM	212055760
+SPILL	SORT_AND_SPILL	14322984000
+SPILL	QUICK_SORT	13000731000
+SPILL	SORT_COUNT	576845
+SPILL	COMBINE	0
+SPILL	WRITE	1322253000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	20179829
+SPILL	COMPRESS_BYTE_COUNT	20179937
+MERGE	TOTAL_MERGE	1555000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	40074893666
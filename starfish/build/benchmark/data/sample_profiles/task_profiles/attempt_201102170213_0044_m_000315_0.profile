@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00160	0
+MAP	STARTUP_MEM	215264240
+MAP	SETUP	490000
+MAP	SETUP_MEM	215264240
+MAP	CLEANUP	98000
+MAP	CLEANUP_MEM	222676960
+MAP	TOTAL_RUN	14962986000
+MAP	READ	5750771000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	389354
+MAP	VALUE_BYTE_COUNT	134074355
+MAP	MAP	8999772000
+MAP	WRITE	3912218000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	604440000
+MAP	SERIALIZE_OUTPUT	1743250000
+MAP	MAP_MEM	222676960
+SPILL	SORT_AND_SPILL	19264212000
+SPILL	QUICK_SORT	17471993000
+SPILL	SORT_COUNT	684280
+SPILL	COMBINE	0
+SPILL	WRITE	1792219000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	23580039
+SPILL	COMPRESS_BYTE_COUNT	23580147
+MERGE	TOTAL_MERGE	1501000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	34711836000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00141	0
+MAP	STARTUP_MEM	215301248
+MAP	SETUP	492000
+MAP	SETUP_MEM	215301248
+MAP	CLEANUP	96000
+MAP	CLEANUP_MEM	221839632
+MAP	TOTAL_RUN	18474161000
+MAP	READ	5369671000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	680918
+MAP	VALUE_BYTE_COUNT	133911163
+MAP	MAP	12562110000
+MAP	WRITE	6547775000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	635865000
+MAP	SERIALIZE_OUTPUT	3897992000
+MAP	MAP_MEM	222401792
+SPILL	SORT_AND_SPILL	17389888000
+SPILL	QUICK_SORT	16056243000
+SPILL	SORT_COUNT	735547
+SPILL	COMBINE	0
+SPILL	WRITE	1333645000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	26280488
+SPILL	COMPRESS_BYTE_COUNT	26280596
+MERGE	TOTAL_MERGE	1676000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	36389100000
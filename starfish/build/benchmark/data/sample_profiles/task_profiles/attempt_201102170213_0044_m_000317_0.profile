@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00209	0
+MAP	STARTUP_MEM	214675464
+MAP	SETUP	441000
+MAP	SETUP_MEM	214675464
+MAP	CLEANUP	103000
+MAP	CLEANUP_MEM	232245072
+MAP	TOTAL_RUN	20308967000
+MAP	READ	7554623000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	502033
+MAP	VALUE_BYTE_COUNT	133164320
+MAP	MAP	12499734000
+MAP	WRITE	5793006000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	545018000
+MAP	SERIALIZE_OUTPUT	1484061000
+MAP	MAP_MEM	232245072
+SPILL	SORT_AND_SPILL	16159589000
+SPILL	QUICK_SORT	14941163000
+SPILL	SORT_COUNT	601833
+SPILL	COMBINE	0
+SPILL	WRITE	1218426000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	21311621
+SPILL	COMPRESS_BYTE_COUNT	21311729
+MERGE	TOTAL_MERGE	1598000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	37103273000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00008	0
+MAP	STARTUP_MEM	215230440
+MAP	SETUP	504000
+MAP	SETUP_MEM	215230440
+MAP	CLEANUP	115000
+MAP	CLEANUP_MEM	233731120
+MAP	TOTAL_RUN	18803229126
+MAP	READ	7226538000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	70845
+MAP	VALUE_BYTE_COUNT	134171613
+MAP	MAP	11489237126
+MAP	WRITE	5910753126
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	825017000
+MAP	SERIALIZE_OUTPUT	2007001000
+MAP	MAP_MEM	233731120
+SPILL	SORT_AND_SPILL	18564141000
+SPILL	QUICK_SORT	17176202000
+SPILL	SORT_COUNT	716835
+SPILL	COMBINE	0
+SPILL	WRITE	1387939000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	23719609
+SPILL	COMPRESS_BYTE_COUNT	23719717
+MERGE	TOTAL_MERGE	2103000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	37942777126
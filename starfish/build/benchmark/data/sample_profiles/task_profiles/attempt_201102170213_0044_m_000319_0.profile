@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00181	0
+MAP	STARTUP_MEM	214440440
+MAP	SETUP	449000
+MAP	SETUP_MEM	214440440
+MAP	CLEANUP	100000
+MAP	CLEANUP_MEM	241648160
+MAP	TOTAL_RUN	19432123646
+MAP	READ	5632989000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	557165
+MAP	VALUE_BYTE_COUNT	133883550
+MAP	MAP	13440780646
+MAP	WRITE	6110150000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	814693000
+MAP	SERIALIZE_OUTPUT	1758898000
+MAP	MAP_MEM	241648160
+SPILL	SORT_AND_SPILL	15148346000
+SPILL	QUICK_SORT	13813480000
+SPILL	SORT_COUNT	704672
+SPILL	COMBINE	0
+SPILL	WRITE	1334866000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	25791952
+SPILL	COMPRESS_BYTE_COUNT	25792060
+MERGE	TOTAL_MERGE	1480000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	35092934646
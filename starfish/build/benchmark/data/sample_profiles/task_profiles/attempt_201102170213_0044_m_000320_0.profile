@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00215	0
+MAP	STARTUP_MEM	216106464
+MAP	SETUP	478000
+MAP	SETUP_MEM	216106464
+MAP	CLEANUP	100000
+MAP	CLEANUP_MEM	224304704
+MAP	TOTAL_RUN	13103267000
+MAP	READ	5352858000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	393232
+MAP	VALUE_BYTE_COUNT	134069669
+MAP	MAP	6944149000
+MAP	WRITE	2618282000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	453184000
+MAP	SERIALIZE_OUTPUT	1105084000
+MAP	MAP_MEM	224304704
+SPILL	SORT_AND_SPILL	14498127000
+SPILL	QUICK_SORT	12586670000
+SPILL	SORT_COUNT	492375
+SPILL	COMBINE	0
+SPILL	WRITE	1911457000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	17585653
+SPILL	COMPRESS_BYTE_COUNT	17585761
+MERGE	TOTAL_MERGE	3294000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	29556468000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00140	0
+MAP	STARTUP_MEM	215966592
+MAP	SETUP	420000
+MAP	SETUP_MEM	215966592
+MAP	CLEANUP	100000
+MAP	CLEANUP_MEM	237351912
+MAP	TOTAL_RUN	17245330000
+MAP	READ	7475498000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	672539
+MAP	VALUE_BYTE_COUNT	133925065
+MAP	MAP	9437766000
+MAP	WRITE	4207416000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	617823000
+MAP	SERIALIZE_OUTPUT	1543197000
+MAP	MAP_MEM	237914072
+SPILL	SORT_AND_SPILL	15589619000
+SPILL	QUICK_SORT	14099802000
+SPILL	SORT_COUNT	687459
+SPILL	COMBINE	0
+SPILL	WRITE	1489817000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	24382923
+SPILL	COMPRESS_BYTE_COUNT	24383031
+MERGE	TOTAL_MERGE	1443000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	37177036000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00213	0
+MAP	STARTUP_MEM	215317768
+MAP	SETUP	472000
+MAP	SETUP_MEM	215317768
+MAP	CLEANUP	95000
+MAP	CLEANUP_MEM	211726088
+MAP	TOTAL_RUN	17711699000
+MAP	READ	6239521000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	564896
+MAP	VALUE_BYTE_COUNT	134004400
+MAP	MAP	11225741000
+MAP	WRITE	6811311000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	482854000
+MAP	SERIALIZE_OUTPUT	2146519000
+MAP	MAP_MEM	212288248
+SPILL	SORT_AND_SPILL	12308184000
+SPILL	QUICK_SORT	11190476000
+SPILL	SORT_COUNT	579480
+SPILL	COMBINE	0
+SPILL	WRITE	1117708000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	20834655
+SPILL	COMPRESS_BYTE_COUNT	20834763
+MERGE	TOTAL_MERGE	1601000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	30561653000
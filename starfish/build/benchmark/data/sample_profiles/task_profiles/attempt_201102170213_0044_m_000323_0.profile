@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00214	0
+MAP	STARTUP_MEM	216121960
+MAP	SETUP	463000
+MAP	SETUP_MEM	216121960
+MAP	CLEANUP	98000
+MAP	CLEANUP_MEM	220031144
+MAP	TOTAL_RUN	23816581000
+MAP	READ	6798112000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	779592
+MAP	VALUE_BYTE_COUNT	133926103
+MAP	MAP	16119927000
+MAP	WRITE	9181558000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	711586000
+MAP	SERIALIZE_OUTPUT	2266450000
+MAP	MAP_MEM	221512952
+SPILL	SORT_AND_SPILL	15837546000
+SPILL	QUICK_SORT	12660421000
+SPILL	SORT_COUNT	581834
+SPILL	COMBINE	0
+SPILL	WRITE	3177125000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	21570011
+SPILL	COMPRESS_BYTE_COUNT	21570119
+MERGE	TOTAL_MERGE	1928000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	40104004000
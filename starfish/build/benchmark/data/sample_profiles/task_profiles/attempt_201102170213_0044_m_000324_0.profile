@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00114	0
+MAP	STARTUP_MEM	214633184
+MAP	SETUP	417000
+MAP	SETUP_MEM	214633184
+MAP	CLEANUP	99000
+MAP	CLEANUP_MEM	237646024
+MAP	TOTAL_RUN	17971376000
+MAP	READ	6543747000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	249592
+MAP	VALUE_BYTE_COUNT	134143606
+MAP	MAP	9862971000
+MAP	WRITE	4419314000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	696745000
+MAP	SERIALIZE_OUTPUT	2182582000
+MAP	MAP_MEM	237646024
+SPILL	SORT_AND_SPILL	14177182000
+SPILL	QUICK_SORT	12998079000
+SPILL	SORT_COUNT	612753
+SPILL	COMBINE	0
+SPILL	WRITE	1179103000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	20967508
+SPILL	COMPRESS_BYTE_COUNT	20967616
+MERGE	TOTAL_MERGE	1524000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	32656364000
@@ -0,0 +1,35 @@
+MAP	hdfs://ip-10-244-183-81.ec2.internal:50001/user/root/wiki/files2/part-00009	0
+MAP	STARTUP_MEM	215280136
+MAP	SETUP	475000
+MAP	SETUP_MEM	215280136
+MAP	CLEANUP	57000
+MAP	CLEANUP_MEM	241129776
+MAP	TOTAL_RUN	17729337000
+MAP	READ	8946604000
+MAP	UNCOMPRESS	0
+MAP	KEY_BYTE_COUNT	81855
+MAP	VALUE_BYTE_COUNT	134173688
+MAP	MAP	8692957000
+MAP	WRITE	3947075000
+MAP	COMPRESS	0
+MAP	PARTITION_OUTPUT	696460000
+MAP	SERIALIZE_OUTPUT	1638448000
+MAP	MAP_MEM	241691936
+SPILL	SORT_AND_SPILL	9844618000
+SPILL	QUICK_SORT	8568854000
+SPILL	SORT_COUNT	735743
+SPILL	COMBINE	0
+SPILL	WRITE	1275764000
+SPILL	COMPRESS	0
+SPILL	UNCOMPRESS_BYTE_COUNT	25648356
+SPILL	COMPRESS_BYTE_COUNT	25648464
+MERGE	TOTAL_MERGE	1524000
+MERGE	READ_WRITE	0
+MERGE	READ_WRITE_COUNT	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+MAP	WRITE	0
+MAP	COMPRESS	0
+MAP	KEY_BYTE_COUNT	0
+MAP	VALUE_BYTE_COUNT	0
+TASK	TOTAL_RUN	28085914000
@@ -0,0 +1,1333 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1876137
+SHUFFLE	COMPRESS_BYTE_COUNT	1876141
+SHUFFLE	COPY_MAP_DATA	220351000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1826845
+SHUFFLE	COMPRESS_BYTE_COUNT	1826849
+SHUFFLE	COPY_MAP_DATA	63766000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2011787
+SHUFFLE	COMPRESS_BYTE_COUNT	2011791
+SHUFFLE	COPY_MAP_DATA	35645000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2036993
+SHUFFLE	COMPRESS_BYTE_COUNT	2036997
+SHUFFLE	COPY_MAP_DATA	1365843000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1939765
+SHUFFLE	COMPRESS_BYTE_COUNT	1939769
+SHUFFLE	COPY_MAP_DATA	49329000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2044737
+SHUFFLE	COMPRESS_BYTE_COUNT	2044741
+SHUFFLE	COPY_MAP_DATA	98132000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2045452
+SHUFFLE	COMPRESS_BYTE_COUNT	2045456
+SHUFFLE	COPY_MAP_DATA	91979000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1697036
+SHUFFLE	COMPRESS_BYTE_COUNT	1697040
+SHUFFLE	COPY_MAP_DATA	803026000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1812390
+SHUFFLE	COMPRESS_BYTE_COUNT	1812394
+SHUFFLE	COPY_MAP_DATA	46852000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2036398
+SHUFFLE	COMPRESS_BYTE_COUNT	2036402
+SHUFFLE	COPY_MAP_DATA	18539000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1979463
+SHUFFLE	COMPRESS_BYTE_COUNT	1979467
+SHUFFLE	COPY_MAP_DATA	128347000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1957999
+SHUFFLE	COMPRESS_BYTE_COUNT	1958003
+SHUFFLE	COPY_MAP_DATA	119699000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1996285
+SHUFFLE	COMPRESS_BYTE_COUNT	1996289
+SHUFFLE	COPY_MAP_DATA	617122000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2043957
+SHUFFLE	COMPRESS_BYTE_COUNT	2043961
+SHUFFLE	COPY_MAP_DATA	24879000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2064838
+SHUFFLE	COMPRESS_BYTE_COUNT	2064842
+SHUFFLE	COPY_MAP_DATA	108668000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2096372
+SHUFFLE	COMPRESS_BYTE_COUNT	2096376
+SHUFFLE	COPY_MAP_DATA	54481000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2005528
+SHUFFLE	COMPRESS_BYTE_COUNT	2005532
+SHUFFLE	COPY_MAP_DATA	135321000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1978268
+SHUFFLE	COMPRESS_BYTE_COUNT	1978272
+SHUFFLE	COPY_MAP_DATA	34136000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2010656
+SHUFFLE	COMPRESS_BYTE_COUNT	2010660
+SHUFFLE	COPY_MAP_DATA	26969000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2016518
+SHUFFLE	COMPRESS_BYTE_COUNT	2016522
+SHUFFLE	COPY_MAP_DATA	87356000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1925659
+SHUFFLE	COMPRESS_BYTE_COUNT	1925663
+SHUFFLE	COPY_MAP_DATA	140055000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2045984
+SHUFFLE	COMPRESS_BYTE_COUNT	2045988
+SHUFFLE	COPY_MAP_DATA	26164000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1997275
+SHUFFLE	COMPRESS_BYTE_COUNT	1997279
+SHUFFLE	COPY_MAP_DATA	66976000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1822956
+SHUFFLE	COMPRESS_BYTE_COUNT	1822960
+SHUFFLE	COPY_MAP_DATA	61888000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2100952
+SHUFFLE	COMPRESS_BYTE_COUNT	2100956
+SHUFFLE	COPY_MAP_DATA	348707000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2110239
+SHUFFLE	COMPRESS_BYTE_COUNT	2110243
+SHUFFLE	COPY_MAP_DATA	30706000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2168990
+SHUFFLE	COMPRESS_BYTE_COUNT	2168994
+SHUFFLE	COPY_MAP_DATA	27538000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1865386
+SHUFFLE	COMPRESS_BYTE_COUNT	1865390
+SHUFFLE	COPY_MAP_DATA	48264000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2221477
+SHUFFLE	COMPRESS_BYTE_COUNT	2221481
+SHUFFLE	COPY_MAP_DATA	4086451000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2058164
+SHUFFLE	COMPRESS_BYTE_COUNT	2058168
+SHUFFLE	COPY_MAP_DATA	1730668000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1986666
+SHUFFLE	COMPRESS_BYTE_COUNT	1986670
+SHUFFLE	COPY_MAP_DATA	4795897000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1967442
+SHUFFLE	COMPRESS_BYTE_COUNT	1967446
+SHUFFLE	COPY_MAP_DATA	1315842000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1773070
+SHUFFLE	COMPRESS_BYTE_COUNT	1773074
+SHUFFLE	COPY_MAP_DATA	30380000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2082806
+SHUFFLE	COMPRESS_BYTE_COUNT	2082810
+SHUFFLE	COPY_MAP_DATA	970312000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1795795
+SHUFFLE	COMPRESS_BYTE_COUNT	1795799
+SHUFFLE	COPY_MAP_DATA	69116000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1904603
+SHUFFLE	COMPRESS_BYTE_COUNT	1904607
+SHUFFLE	COPY_MAP_DATA	2351899000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1799026
+SHUFFLE	COMPRESS_BYTE_COUNT	1799030
+SHUFFLE	COPY_MAP_DATA	60748000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1832398
+SHUFFLE	COMPRESS_BYTE_COUNT	1832402
+SHUFFLE	COPY_MAP_DATA	43963000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1981798
+SHUFFLE	COMPRESS_BYTE_COUNT	1981802
+SHUFFLE	COPY_MAP_DATA	32605000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1956539
+SHUFFLE	COMPRESS_BYTE_COUNT	1956543
+SHUFFLE	COPY_MAP_DATA	275328000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1643811
+SHUFFLE	COMPRESS_BYTE_COUNT	1643815
+SHUFFLE	COPY_MAP_DATA	51239000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1827354
+SHUFFLE	COMPRESS_BYTE_COUNT	1827358
+SHUFFLE	COPY_MAP_DATA	655888000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1661775
+SHUFFLE	COMPRESS_BYTE_COUNT	1661779
+SHUFFLE	COPY_MAP_DATA	38200000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1913619
+SHUFFLE	COMPRESS_BYTE_COUNT	1913623
+SHUFFLE	COPY_MAP_DATA	228468000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1870999
+SHUFFLE	COMPRESS_BYTE_COUNT	1871003
+SHUFFLE	COPY_MAP_DATA	37605000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2036107
+SHUFFLE	COMPRESS_BYTE_COUNT	2036111
+SHUFFLE	COPY_MAP_DATA	36053000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1739807
+SHUFFLE	COMPRESS_BYTE_COUNT	1739811
+SHUFFLE	COPY_MAP_DATA	24324000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1984120
+SHUFFLE	COMPRESS_BYTE_COUNT	1984124
+SHUFFLE	COPY_MAP_DATA	654515000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1742267
+SHUFFLE	COMPRESS_BYTE_COUNT	1742271
+SHUFFLE	COPY_MAP_DATA	78281000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1835241
+SHUFFLE	COMPRESS_BYTE_COUNT	1835245
+SHUFFLE	COPY_MAP_DATA	1149648000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1646084
+SHUFFLE	COMPRESS_BYTE_COUNT	1646088
+SHUFFLE	COPY_MAP_DATA	315838000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1801686
+SHUFFLE	COMPRESS_BYTE_COUNT	1801690
+SHUFFLE	COPY_MAP_DATA	128149000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2513496
+SHUFFLE	COMPRESS_BYTE_COUNT	2513500
+SHUFFLE	COPY_MAP_DATA	3384205000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1683050
+SHUFFLE	COMPRESS_BYTE_COUNT	1683054
+SHUFFLE	COPY_MAP_DATA	554877000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1663764
+SHUFFLE	COMPRESS_BYTE_COUNT	1663768
+SHUFFLE	COPY_MAP_DATA	52339000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1871753
+SHUFFLE	COMPRESS_BYTE_COUNT	1871757
+SHUFFLE	COPY_MAP_DATA	2002055000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1933121
+SHUFFLE	COMPRESS_BYTE_COUNT	1933125
+SHUFFLE	COPY_MAP_DATA	1912082000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1781344
+SHUFFLE	COMPRESS_BYTE_COUNT	1781348
+SHUFFLE	COPY_MAP_DATA	211204000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1871461
+SHUFFLE	COMPRESS_BYTE_COUNT	1871465
+SHUFFLE	COPY_MAP_DATA	137589000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1727320
+SHUFFLE	COMPRESS_BYTE_COUNT	1727324
+SHUFFLE	COPY_MAP_DATA	1076444000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1565753
+SHUFFLE	COMPRESS_BYTE_COUNT	1565757
+SHUFFLE	COPY_MAP_DATA	25136000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1906819
+SHUFFLE	COMPRESS_BYTE_COUNT	1906823
+SHUFFLE	COPY_MAP_DATA	219977000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1620998
+SHUFFLE	COMPRESS_BYTE_COUNT	1621002
+SHUFFLE	COPY_MAP_DATA	130392000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1669668
+SHUFFLE	COMPRESS_BYTE_COUNT	1669672
+SHUFFLE	COPY_MAP_DATA	25469000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1583641
+SHUFFLE	COMPRESS_BYTE_COUNT	1583645
+SHUFFLE	COPY_MAP_DATA	160376000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1611627
+SHUFFLE	COMPRESS_BYTE_COUNT	1611631
+SHUFFLE	COPY_MAP_DATA	141628000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1969429
+SHUFFLE	COMPRESS_BYTE_COUNT	1969433
+SHUFFLE	COPY_MAP_DATA	139555000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1628377
+SHUFFLE	COMPRESS_BYTE_COUNT	1628381
+SHUFFLE	COPY_MAP_DATA	1186876000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1605682
+SHUFFLE	COMPRESS_BYTE_COUNT	1605686
+SHUFFLE	COPY_MAP_DATA	362523000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1607306
+SHUFFLE	COMPRESS_BYTE_COUNT	1607310
+SHUFFLE	COPY_MAP_DATA	411834000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1685492
+SHUFFLE	COMPRESS_BYTE_COUNT	1685496
+SHUFFLE	COPY_MAP_DATA	13149802000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1765157
+SHUFFLE	COMPRESS_BYTE_COUNT	1765161
+SHUFFLE	COPY_MAP_DATA	94008000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1894491
+SHUFFLE	COMPRESS_BYTE_COUNT	1894495
+SHUFFLE	COPY_MAP_DATA	258122000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1641918
+SHUFFLE	COMPRESS_BYTE_COUNT	1641922
+SHUFFLE	COPY_MAP_DATA	78041000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1574803
+SHUFFLE	COMPRESS_BYTE_COUNT	1574807
+SHUFFLE	COPY_MAP_DATA	13507000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1544000
+SHUFFLE	COMPRESS_BYTE_COUNT	1544004
+SHUFFLE	COPY_MAP_DATA	1520252000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1729607
+SHUFFLE	COMPRESS_BYTE_COUNT	1729611
+SHUFFLE	COPY_MAP_DATA	180762000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1857884
+SHUFFLE	COMPRESS_BYTE_COUNT	1857888
+SHUFFLE	COPY_MAP_DATA	28848000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1774177
+SHUFFLE	COMPRESS_BYTE_COUNT	1774181
+SHUFFLE	COPY_MAP_DATA	181185000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1971257
+SHUFFLE	COMPRESS_BYTE_COUNT	1971261
+SHUFFLE	COPY_MAP_DATA	743142000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1844857
+SHUFFLE	COMPRESS_BYTE_COUNT	1844861
+SHUFFLE	COPY_MAP_DATA	373303000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1677045
+SHUFFLE	COMPRESS_BYTE_COUNT	1677049
+SHUFFLE	COPY_MAP_DATA	1736599000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1574474
+SHUFFLE	COMPRESS_BYTE_COUNT	1574478
+SHUFFLE	COPY_MAP_DATA	33873000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1699333
+SHUFFLE	COMPRESS_BYTE_COUNT	1699337
+SHUFFLE	COPY_MAP_DATA	1633106000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1771462
+SHUFFLE	COMPRESS_BYTE_COUNT	1771466
+SHUFFLE	COPY_MAP_DATA	171356000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1589630
+SHUFFLE	COMPRESS_BYTE_COUNT	1589634
+SHUFFLE	COPY_MAP_DATA	24150000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1530263
+SHUFFLE	COMPRESS_BYTE_COUNT	1530267
+SHUFFLE	COPY_MAP_DATA	1163880000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2008983
+SHUFFLE	COMPRESS_BYTE_COUNT	2008987
+SHUFFLE	COPY_MAP_DATA	1144192000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1839373
+SHUFFLE	COMPRESS_BYTE_COUNT	1839377
+SHUFFLE	COPY_MAP_DATA	109633000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	816524
+SHUFFLE	COMPRESS_BYTE_COUNT	816528
+SHUFFLE	COPY_MAP_DATA	14243000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1711306
+SHUFFLE	COMPRESS_BYTE_COUNT	1711310
+SHUFFLE	COPY_MAP_DATA	9086225000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	936404
+SHUFFLE	COMPRESS_BYTE_COUNT	936408
+SHUFFLE	COPY_MAP_DATA	18695000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1620357
+SHUFFLE	COMPRESS_BYTE_COUNT	1620361
+SHUFFLE	COPY_MAP_DATA	25850000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	991788
+SHUFFLE	COMPRESS_BYTE_COUNT	991792
+SHUFFLE	COPY_MAP_DATA	17265000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	880514
+SHUFFLE	COMPRESS_BYTE_COUNT	880518
+SHUFFLE	COPY_MAP_DATA	16564000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	875988
+SHUFFLE	COMPRESS_BYTE_COUNT	875992
+SHUFFLE	COPY_MAP_DATA	19646000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1795850
+SHUFFLE	COMPRESS_BYTE_COUNT	1795854
+SHUFFLE	COPY_MAP_DATA	23452000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1493048
+SHUFFLE	COMPRESS_BYTE_COUNT	1493052
+SHUFFLE	COPY_MAP_DATA	19501000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1689024
+SHUFFLE	COMPRESS_BYTE_COUNT	1689028
+SHUFFLE	COPY_MAP_DATA	180546000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1426926
+SHUFFLE	COMPRESS_BYTE_COUNT	1426930
+SHUFFLE	COPY_MAP_DATA	25274000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1047750
+SHUFFLE	COMPRESS_BYTE_COUNT	1047754
+SHUFFLE	COPY_MAP_DATA	618220000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1015149
+SHUFFLE	COMPRESS_BYTE_COUNT	1015153
+SHUFFLE	COPY_MAP_DATA	318755000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1646509
+SHUFFLE	COMPRESS_BYTE_COUNT	1646513
+SHUFFLE	COPY_MAP_DATA	227172000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1867244
+SHUFFLE	COMPRESS_BYTE_COUNT	1867248
+SHUFFLE	COPY_MAP_DATA	2977145000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1844835
+SHUFFLE	COMPRESS_BYTE_COUNT	1844839
+SHUFFLE	COPY_MAP_DATA	839076000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1672131
+SHUFFLE	COMPRESS_BYTE_COUNT	1672135
+SHUFFLE	COPY_MAP_DATA	35898000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1757992
+SHUFFLE	COMPRESS_BYTE_COUNT	1757996
+SHUFFLE	COPY_MAP_DATA	23853000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1070965
+SHUFFLE	COMPRESS_BYTE_COUNT	1070969
+SHUFFLE	COPY_MAP_DATA	286716000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1653111
+SHUFFLE	COMPRESS_BYTE_COUNT	1653115
+SHUFFLE	COPY_MAP_DATA	27515000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	977568
+SHUFFLE	COMPRESS_BYTE_COUNT	977572
+SHUFFLE	COPY_MAP_DATA	74485000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1645534
+SHUFFLE	COMPRESS_BYTE_COUNT	1645538
+SHUFFLE	COPY_MAP_DATA	25446000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1594556
+SHUFFLE	COMPRESS_BYTE_COUNT	1594560
+SHUFFLE	COPY_MAP_DATA	4127091000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1066391
+SHUFFLE	COMPRESS_BYTE_COUNT	1066395
+SHUFFLE	COPY_MAP_DATA	49888000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	973774
+SHUFFLE	COMPRESS_BYTE_COUNT	973778
+SHUFFLE	COPY_MAP_DATA	16870000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1699591
+SHUFFLE	COMPRESS_BYTE_COUNT	1699595
+SHUFFLE	COPY_MAP_DATA	17651000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1834253
+SHUFFLE	COMPRESS_BYTE_COUNT	1834257
+SHUFFLE	COPY_MAP_DATA	30847000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	985734
+SHUFFLE	COMPRESS_BYTE_COUNT	985738
+SHUFFLE	COPY_MAP_DATA	326620000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1095092
+SHUFFLE	COMPRESS_BYTE_COUNT	1095096
+SHUFFLE	COPY_MAP_DATA	517618000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	3314589
+SHUFFLE	COMPRESS_BYTE_COUNT	3314593
+SHUFFLE	COPY_MAP_DATA	720514000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1833875
+SHUFFLE	COMPRESS_BYTE_COUNT	1833879
+SHUFFLE	COPY_MAP_DATA	341354000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1006496
+SHUFFLE	COMPRESS_BYTE_COUNT	1006500
+SHUFFLE	COPY_MAP_DATA	18537000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	991030
+SHUFFLE	COMPRESS_BYTE_COUNT	991034
+SHUFFLE	COPY_MAP_DATA	17463000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1038607
+SHUFFLE	COMPRESS_BYTE_COUNT	1038611
+SHUFFLE	COPY_MAP_DATA	1102624000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	994122
+SHUFFLE	COMPRESS_BYTE_COUNT	994126
+SHUFFLE	COPY_MAP_DATA	58781000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	831170
+SHUFFLE	COMPRESS_BYTE_COUNT	831174
+SHUFFLE	COPY_MAP_DATA	18513000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1008800
+SHUFFLE	COMPRESS_BYTE_COUNT	1008804
+SHUFFLE	COPY_MAP_DATA	21608000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	995267
+SHUFFLE	COMPRESS_BYTE_COUNT	995271
+SHUFFLE	COPY_MAP_DATA	297643000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1051864
+SHUFFLE	COMPRESS_BYTE_COUNT	1051868
+SHUFFLE	COPY_MAP_DATA	49804000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1122331
+SHUFFLE	COMPRESS_BYTE_COUNT	1122335
+SHUFFLE	COPY_MAP_DATA	13415000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1099148
+SHUFFLE	COMPRESS_BYTE_COUNT	1099152
+SHUFFLE	COPY_MAP_DATA	439782000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1009739
+SHUFFLE	COMPRESS_BYTE_COUNT	1009743
+SHUFFLE	COPY_MAP_DATA	15681000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1015254
+SHUFFLE	COMPRESS_BYTE_COUNT	1015258
+SHUFFLE	COPY_MAP_DATA	44167000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	945236
+SHUFFLE	COMPRESS_BYTE_COUNT	945240
+SHUFFLE	COPY_MAP_DATA	25472000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1010416
+SHUFFLE	COMPRESS_BYTE_COUNT	1010420
+SHUFFLE	COPY_MAP_DATA	409990000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1002989
+SHUFFLE	COMPRESS_BYTE_COUNT	1002993
+SHUFFLE	COPY_MAP_DATA	413761000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1109669
+SHUFFLE	COMPRESS_BYTE_COUNT	1109673
+SHUFFLE	COPY_MAP_DATA	3113856000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1059720
+SHUFFLE	COMPRESS_BYTE_COUNT	1059724
+SHUFFLE	COPY_MAP_DATA	69956000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1000919
+SHUFFLE	COMPRESS_BYTE_COUNT	1000923
+SHUFFLE	COPY_MAP_DATA	88370000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1130385
+SHUFFLE	COMPRESS_BYTE_COUNT	1130389
+SHUFFLE	COPY_MAP_DATA	23060000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	991401
+SHUFFLE	COMPRESS_BYTE_COUNT	991405
+SHUFFLE	COPY_MAP_DATA	547999000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1531791
+SHUFFLE	COMPRESS_BYTE_COUNT	1531795
+SHUFFLE	COPY_MAP_DATA	5808949000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1029904
+SHUFFLE	COMPRESS_BYTE_COUNT	1029908
+SHUFFLE	COPY_MAP_DATA	49041000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1022867
+SHUFFLE	COMPRESS_BYTE_COUNT	1022871
+SHUFFLE	COPY_MAP_DATA	36583000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	986705
+SHUFFLE	COMPRESS_BYTE_COUNT	986709
+SHUFFLE	COPY_MAP_DATA	242212000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1001750
+SHUFFLE	COMPRESS_BYTE_COUNT	1001754
+SHUFFLE	COPY_MAP_DATA	297095000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	981576
+SHUFFLE	COMPRESS_BYTE_COUNT	981580
+SHUFFLE	COPY_MAP_DATA	977398000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	986166
+SHUFFLE	COMPRESS_BYTE_COUNT	986170
+SHUFFLE	COPY_MAP_DATA	10128000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1014692
+SHUFFLE	COMPRESS_BYTE_COUNT	1014696
+SHUFFLE	COPY_MAP_DATA	19398000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1088394
+SHUFFLE	COMPRESS_BYTE_COUNT	1088398
+SHUFFLE	COPY_MAP_DATA	9729000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1041973
+SHUFFLE	COMPRESS_BYTE_COUNT	1041977
+SHUFFLE	COPY_MAP_DATA	6468827000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1085700
+SHUFFLE	COMPRESS_BYTE_COUNT	1085704
+SHUFFLE	COPY_MAP_DATA	19057000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	965615
+SHUFFLE	COMPRESS_BYTE_COUNT	965619
+SHUFFLE	COPY_MAP_DATA	1924139000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	965069
+SHUFFLE	COMPRESS_BYTE_COUNT	965073
+SHUFFLE	COPY_MAP_DATA	1361112000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1001828
+SHUFFLE	COMPRESS_BYTE_COUNT	1001832
+SHUFFLE	COPY_MAP_DATA	99377000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	913907
+SHUFFLE	COMPRESS_BYTE_COUNT	913911
+SHUFFLE	COPY_MAP_DATA	34372000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	987240
+SHUFFLE	COMPRESS_BYTE_COUNT	987244
+SHUFFLE	COPY_MAP_DATA	23361000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1016001
+SHUFFLE	COMPRESS_BYTE_COUNT	1016005
+SHUFFLE	COPY_MAP_DATA	301019000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	992386
+SHUFFLE	COMPRESS_BYTE_COUNT	992390
+SHUFFLE	COPY_MAP_DATA	12147000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	948601
+SHUFFLE	COMPRESS_BYTE_COUNT	948605
+SHUFFLE	COPY_MAP_DATA	44163000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	970865
+SHUFFLE	COMPRESS_BYTE_COUNT	970869
+SHUFFLE	COPY_MAP_DATA	173086000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	998725
+SHUFFLE	COMPRESS_BYTE_COUNT	998729
+SHUFFLE	COPY_MAP_DATA	22247000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	995495
+SHUFFLE	COMPRESS_BYTE_COUNT	995499
+SHUFFLE	COPY_MAP_DATA	2284660000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	996404
+SHUFFLE	COMPRESS_BYTE_COUNT	996408
+SHUFFLE	COPY_MAP_DATA	22657000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1113241
+SHUFFLE	COMPRESS_BYTE_COUNT	1113245
+SHUFFLE	COPY_MAP_DATA	22210000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1066807
+SHUFFLE	COMPRESS_BYTE_COUNT	1066811
+SHUFFLE	COPY_MAP_DATA	52608000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	961046
+SHUFFLE	COMPRESS_BYTE_COUNT	961050
+SHUFFLE	COPY_MAP_DATA	130032000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1010935
+SHUFFLE	COMPRESS_BYTE_COUNT	1010939
+SHUFFLE	COPY_MAP_DATA	21281000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	980425
+SHUFFLE	COMPRESS_BYTE_COUNT	980429
+SHUFFLE	COPY_MAP_DATA	12781000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	921843
+SHUFFLE	COMPRESS_BYTE_COUNT	921847
+SHUFFLE	COPY_MAP_DATA	11865000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1019190
+SHUFFLE	COMPRESS_BYTE_COUNT	1019194
+SHUFFLE	COPY_MAP_DATA	46447000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	973156
+SHUFFLE	COMPRESS_BYTE_COUNT	973160
+SHUFFLE	COPY_MAP_DATA	18821000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	943363
+SHUFFLE	COMPRESS_BYTE_COUNT	943367
+SHUFFLE	COPY_MAP_DATA	10474000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1011111
+SHUFFLE	COMPRESS_BYTE_COUNT	1011115
+SHUFFLE	COPY_MAP_DATA	19513000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	911070
+SHUFFLE	COMPRESS_BYTE_COUNT	911074
+SHUFFLE	COPY_MAP_DATA	88171000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	990698
+SHUFFLE	COMPRESS_BYTE_COUNT	990702
+SHUFFLE	COPY_MAP_DATA	47498000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1014711
+SHUFFLE	COMPRESS_BYTE_COUNT	1014715
+SHUFFLE	COPY_MAP_DATA	35632000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	948254
+SHUFFLE	COMPRESS_BYTE_COUNT	948258
+SHUFFLE	COPY_MAP_DATA	18581000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1024692
+SHUFFLE	COMPRESS_BYTE_COUNT	1024696
+SHUFFLE	COPY_MAP_DATA	22520000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	980838
+SHUFFLE	COMPRESS_BYTE_COUNT	980842
+SHUFFLE	COPY_MAP_DATA	204892000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	940465
+SHUFFLE	COMPRESS_BYTE_COUNT	940469
+SHUFFLE	COPY_MAP_DATA	1776956000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	985397
+SHUFFLE	COMPRESS_BYTE_COUNT	985401
+SHUFFLE	COPY_MAP_DATA	399307000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	921382
+SHUFFLE	COMPRESS_BYTE_COUNT	921386
+SHUFFLE	COPY_MAP_DATA	163268000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	944006
+SHUFFLE	COMPRESS_BYTE_COUNT	944010
+SHUFFLE	COPY_MAP_DATA	555242000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	965934
+SHUFFLE	COMPRESS_BYTE_COUNT	965938
+SHUFFLE	COPY_MAP_DATA	70847000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	977715
+SHUFFLE	COMPRESS_BYTE_COUNT	977719
+SHUFFLE	COPY_MAP_DATA	18624000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	905529
+SHUFFLE	COMPRESS_BYTE_COUNT	905533
+SHUFFLE	COPY_MAP_DATA	16713000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	906101
+SHUFFLE	COMPRESS_BYTE_COUNT	906105
+SHUFFLE	COPY_MAP_DATA	16154000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	962848
+SHUFFLE	COMPRESS_BYTE_COUNT	962852
+SHUFFLE	COPY_MAP_DATA	996246000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	913364
+SHUFFLE	COMPRESS_BYTE_COUNT	913368
+SHUFFLE	COPY_MAP_DATA	19810000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	951018
+SHUFFLE	COMPRESS_BYTE_COUNT	951022
+SHUFFLE	COPY_MAP_DATA	58381000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	888329
+SHUFFLE	COMPRESS_BYTE_COUNT	888333
+SHUFFLE	COPY_MAP_DATA	10898000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	963077
+SHUFFLE	COMPRESS_BYTE_COUNT	963081
+SHUFFLE	COPY_MAP_DATA	58936000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	929142
+SHUFFLE	COMPRESS_BYTE_COUNT	929146
+SHUFFLE	COPY_MAP_DATA	1023750000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	877185
+SHUFFLE	COMPRESS_BYTE_COUNT	877189
+SHUFFLE	COPY_MAP_DATA	323929000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	881246
+SHUFFLE	COMPRESS_BYTE_COUNT	881250
+SHUFFLE	COPY_MAP_DATA	152667000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	919983
+SHUFFLE	COMPRESS_BYTE_COUNT	919987
+SHUFFLE	COPY_MAP_DATA	42234000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	956528
+SHUFFLE	COMPRESS_BYTE_COUNT	956532
+SHUFFLE	COPY_MAP_DATA	129934000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	939592
+SHUFFLE	COMPRESS_BYTE_COUNT	939596
+SHUFFLE	COPY_MAP_DATA	18788000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	877588
+SHUFFLE	COMPRESS_BYTE_COUNT	877592
+SHUFFLE	COPY_MAP_DATA	1475224000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	887764
+SHUFFLE	COMPRESS_BYTE_COUNT	887768
+SHUFFLE	COPY_MAP_DATA	35267000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	943284
+SHUFFLE	COMPRESS_BYTE_COUNT	943288
+SHUFFLE	COPY_MAP_DATA	566654000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	933440
+SHUFFLE	COMPRESS_BYTE_COUNT	933444
+SHUFFLE	COPY_MAP_DATA	2441148000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	880973
+SHUFFLE	COMPRESS_BYTE_COUNT	880977
+SHUFFLE	COPY_MAP_DATA	147093000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	911577
+SHUFFLE	COMPRESS_BYTE_COUNT	911581
+SHUFFLE	COPY_MAP_DATA	142681000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	887023
+SHUFFLE	COMPRESS_BYTE_COUNT	887027
+SHUFFLE	COPY_MAP_DATA	548128000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	901153
+SHUFFLE	COMPRESS_BYTE_COUNT	901157
+SHUFFLE	COPY_MAP_DATA	507647000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	924100
+SHUFFLE	COMPRESS_BYTE_COUNT	924104
+SHUFFLE	COPY_MAP_DATA	48991000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	869552
+SHUFFLE	COMPRESS_BYTE_COUNT	869556
+SHUFFLE	COPY_MAP_DATA	34919000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	955840
+SHUFFLE	COMPRESS_BYTE_COUNT	955844
+SHUFFLE	COPY_MAP_DATA	12698000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	928471
+SHUFFLE	COMPRESS_BYTE_COUNT	928475
+SHUFFLE	COPY_MAP_DATA	17613000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	817244
+SHUFFLE	COMPRESS_BYTE_COUNT	817248
+SHUFFLE	COPY_MAP_DATA	30059000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	838993
+SHUFFLE	COMPRESS_BYTE_COUNT	838997
+SHUFFLE	COPY_MAP_DATA	123966000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	839632
+SHUFFLE	COMPRESS_BYTE_COUNT	839636
+SHUFFLE	COPY_MAP_DATA	15666000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	833755
+SHUFFLE	COMPRESS_BYTE_COUNT	833759
+SHUFFLE	COPY_MAP_DATA	17330000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	945601
+SHUFFLE	COMPRESS_BYTE_COUNT	945605
+SHUFFLE	COPY_MAP_DATA	520843000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	869769
+SHUFFLE	COMPRESS_BYTE_COUNT	869773
+SHUFFLE	COPY_MAP_DATA	229687000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	863374
+SHUFFLE	COMPRESS_BYTE_COUNT	863378
+SHUFFLE	COPY_MAP_DATA	37433000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	862849
+SHUFFLE	COMPRESS_BYTE_COUNT	862853
+SHUFFLE	COPY_MAP_DATA	338957000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	825138
+SHUFFLE	COMPRESS_BYTE_COUNT	825142
+SHUFFLE	COPY_MAP_DATA	136248000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	970046
+SHUFFLE	COMPRESS_BYTE_COUNT	970050
+SHUFFLE	COPY_MAP_DATA	19779000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	882433
+SHUFFLE	COMPRESS_BYTE_COUNT	882437
+SHUFFLE	COPY_MAP_DATA	149255000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	901355
+SHUFFLE	COMPRESS_BYTE_COUNT	901359
+SHUFFLE	COPY_MAP_DATA	1540406000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	858836
+SHUFFLE	COMPRESS_BYTE_COUNT	858840
+SHUFFLE	COPY_MAP_DATA	2562864000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	825633
+SHUFFLE	COMPRESS_BYTE_COUNT	825637
+SHUFFLE	COPY_MAP_DATA	60097000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	844109
+SHUFFLE	COMPRESS_BYTE_COUNT	844113
+SHUFFLE	COPY_MAP_DATA	13893000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	915443
+SHUFFLE	COMPRESS_BYTE_COUNT	915447
+SHUFFLE	COPY_MAP_DATA	16501000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1501080
+SHUFFLE	COMPRESS_BYTE_COUNT	1501084
+SHUFFLE	COPY_MAP_DATA	23833000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	782029
+SHUFFLE	COMPRESS_BYTE_COUNT	782033
+SHUFFLE	COPY_MAP_DATA	17455000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	821134
+SHUFFLE	COMPRESS_BYTE_COUNT	821138
+SHUFFLE	COPY_MAP_DATA	1003704000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	870291
+SHUFFLE	COMPRESS_BYTE_COUNT	870295
+SHUFFLE	COPY_MAP_DATA	20182000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	841116
+SHUFFLE	COMPRESS_BYTE_COUNT	841120
+SHUFFLE	COPY_MAP_DATA	252366000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1080269
+SHUFFLE	COMPRESS_BYTE_COUNT	1080273
+SHUFFLE	COPY_MAP_DATA	1063585000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	851649
+SHUFFLE	COMPRESS_BYTE_COUNT	851653
+SHUFFLE	COPY_MAP_DATA	76799000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	868619
+SHUFFLE	COMPRESS_BYTE_COUNT	868623
+SHUFFLE	COPY_MAP_DATA	86093000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	844533
+SHUFFLE	COMPRESS_BYTE_COUNT	844537
+SHUFFLE	COPY_MAP_DATA	532745000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1012903
+SHUFFLE	COMPRESS_BYTE_COUNT	1012907
+SHUFFLE	COPY_MAP_DATA	974898000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	829841
+SHUFFLE	COMPRESS_BYTE_COUNT	829845
+SHUFFLE	COPY_MAP_DATA	1031994000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	815203
+SHUFFLE	COMPRESS_BYTE_COUNT	815207
+SHUFFLE	COPY_MAP_DATA	11678000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	838943
+SHUFFLE	COMPRESS_BYTE_COUNT	838947
+SHUFFLE	COPY_MAP_DATA	75002000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	803882
+SHUFFLE	COMPRESS_BYTE_COUNT	803886
+SHUFFLE	COPY_MAP_DATA	261596000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	759177
+SHUFFLE	COMPRESS_BYTE_COUNT	759181
+SHUFFLE	COPY_MAP_DATA	24478000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	920119
+SHUFFLE	COMPRESS_BYTE_COUNT	920123
+SHUFFLE	COPY_MAP_DATA	103066000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	949475
+SHUFFLE	COMPRESS_BYTE_COUNT	949479
+SHUFFLE	COPY_MAP_DATA	17694000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	970403
+SHUFFLE	COMPRESS_BYTE_COUNT	970407
+SHUFFLE	COPY_MAP_DATA	78524000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	795147
+SHUFFLE	COMPRESS_BYTE_COUNT	795151
+SHUFFLE	COPY_MAP_DATA	313355000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	922530
+SHUFFLE	COMPRESS_BYTE_COUNT	922534
+SHUFFLE	COPY_MAP_DATA	8811000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	834167
+SHUFFLE	COMPRESS_BYTE_COUNT	834171
+SHUFFLE	COPY_MAP_DATA	386081000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	760972
+SHUFFLE	COMPRESS_BYTE_COUNT	760976
+SHUFFLE	COPY_MAP_DATA	110950000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	875658
+SHUFFLE	COMPRESS_BYTE_COUNT	875662
+SHUFFLE	COPY_MAP_DATA	446387000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	778443
+SHUFFLE	COMPRESS_BYTE_COUNT	778447
+SHUFFLE	COPY_MAP_DATA	16351000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	820449
+SHUFFLE	COMPRESS_BYTE_COUNT	820453
+SHUFFLE	COPY_MAP_DATA	16092000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	887483
+SHUFFLE	COMPRESS_BYTE_COUNT	887487
+SHUFFLE	COPY_MAP_DATA	25380000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	828254
+SHUFFLE	COMPRESS_BYTE_COUNT	828258
+SHUFFLE	COPY_MAP_DATA	15198000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	819734
+SHUFFLE	COMPRESS_BYTE_COUNT	819738
+SHUFFLE	COPY_MAP_DATA	27815000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	849547
+SHUFFLE	COMPRESS_BYTE_COUNT	849551
+SHUFFLE	COPY_MAP_DATA	4481692000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	825637
+SHUFFLE	COMPRESS_BYTE_COUNT	825641
+SHUFFLE	COPY_MAP_DATA	27795000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	797155
+SHUFFLE	COMPRESS_BYTE_COUNT	797159
+SHUFFLE	COPY_MAP_DATA	36329000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	799345
+SHUFFLE	COMPRESS_BYTE_COUNT	799349
+SHUFFLE	COPY_MAP_DATA	2380802000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	756790
+SHUFFLE	COMPRESS_BYTE_COUNT	756794
+SHUFFLE	COPY_MAP_DATA	174515000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	805200
+SHUFFLE	COMPRESS_BYTE_COUNT	805204
+SHUFFLE	COPY_MAP_DATA	36241000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	860204
+SHUFFLE	COMPRESS_BYTE_COUNT	860208
+SHUFFLE	COPY_MAP_DATA	17581000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	851345
+SHUFFLE	COMPRESS_BYTE_COUNT	851349
+SHUFFLE	COPY_MAP_DATA	936694000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	916075
+SHUFFLE	COMPRESS_BYTE_COUNT	916079
+SHUFFLE	COPY_MAP_DATA	24356000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1124792
+SHUFFLE	COMPRESS_BYTE_COUNT	1124796
+SHUFFLE	COPY_MAP_DATA	14834000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1069355
+SHUFFLE	COMPRESS_BYTE_COUNT	1069359
+SHUFFLE	COPY_MAP_DATA	15819000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	788641
+SHUFFLE	COMPRESS_BYTE_COUNT	788645
+SHUFFLE	COPY_MAP_DATA	83958000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	765370
+SHUFFLE	COMPRESS_BYTE_COUNT	765374
+SHUFFLE	COPY_MAP_DATA	18240000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	810153
+SHUFFLE	COMPRESS_BYTE_COUNT	810157
+SHUFFLE	COPY_MAP_DATA	240404000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	793326
+SHUFFLE	COMPRESS_BYTE_COUNT	793330
+SHUFFLE	COPY_MAP_DATA	820626000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	893694
+SHUFFLE	COMPRESS_BYTE_COUNT	893698
+SHUFFLE	COPY_MAP_DATA	255693000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	801234
+SHUFFLE	COMPRESS_BYTE_COUNT	801238
+SHUFFLE	COPY_MAP_DATA	77631000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	771453
+SHUFFLE	COMPRESS_BYTE_COUNT	771457
+SHUFFLE	COPY_MAP_DATA	147614000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	798538
+SHUFFLE	COMPRESS_BYTE_COUNT	798542
+SHUFFLE	COPY_MAP_DATA	2268914000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	781150
+SHUFFLE	COMPRESS_BYTE_COUNT	781154
+SHUFFLE	COPY_MAP_DATA	73078000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	804570
+SHUFFLE	COMPRESS_BYTE_COUNT	804574
+SHUFFLE	COPY_MAP_DATA	14761000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	882158
+SHUFFLE	COMPRESS_BYTE_COUNT	882162
+SHUFFLE	COPY_MAP_DATA	405672000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	794012
+SHUFFLE	COMPRESS_BYTE_COUNT	794016
+SHUFFLE	COPY_MAP_DATA	24773000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	809165
+SHUFFLE	COMPRESS_BYTE_COUNT	809169
+SHUFFLE	COPY_MAP_DATA	39973000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	934320
+SHUFFLE	COMPRESS_BYTE_COUNT	934324
+SHUFFLE	COPY_MAP_DATA	2569160000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	806578
+SHUFFLE	COMPRESS_BYTE_COUNT	806582
+SHUFFLE	COPY_MAP_DATA	87204000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	815684
+SHUFFLE	COMPRESS_BYTE_COUNT	815688
+SHUFFLE	COPY_MAP_DATA	18235000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	836931
+SHUFFLE	COMPRESS_BYTE_COUNT	836935
+SHUFFLE	COPY_MAP_DATA	16894000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	890170
+SHUFFLE	COMPRESS_BYTE_COUNT	890174
+SHUFFLE	COPY_MAP_DATA	125391000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	804989
+SHUFFLE	COMPRESS_BYTE_COUNT	804993
+SHUFFLE	COPY_MAP_DATA	415341000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	927279
+SHUFFLE	COMPRESS_BYTE_COUNT	927283
+SHUFFLE	COPY_MAP_DATA	37794000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1045226
+SHUFFLE	COMPRESS_BYTE_COUNT	1045230
+SHUFFLE	COPY_MAP_DATA	18799000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	784550
+SHUFFLE	COMPRESS_BYTE_COUNT	784554
+SHUFFLE	COPY_MAP_DATA	124676000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	755071
+SHUFFLE	COMPRESS_BYTE_COUNT	755075
+SHUFFLE	COPY_MAP_DATA	11579000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	952097
+SHUFFLE	COMPRESS_BYTE_COUNT	952101
+SHUFFLE	COPY_MAP_DATA	30279000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	758288
+SHUFFLE	COMPRESS_BYTE_COUNT	758292
+SHUFFLE	COPY_MAP_DATA	72896000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	744657
+SHUFFLE	COMPRESS_BYTE_COUNT	744661
+SHUFFLE	COPY_MAP_DATA	305691000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	849487
+SHUFFLE	COMPRESS_BYTE_COUNT	849491
+SHUFFLE	COPY_MAP_DATA	215744000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	812344
+SHUFFLE	COMPRESS_BYTE_COUNT	812348
+SHUFFLE	COPY_MAP_DATA	38831000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	835933
+SHUFFLE	COMPRESS_BYTE_COUNT	835937
+SHUFFLE	COPY_MAP_DATA	6012439000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	854989
+SHUFFLE	COMPRESS_BYTE_COUNT	854993
+SHUFFLE	COPY_MAP_DATA	14776000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1040289
+SHUFFLE	COMPRESS_BYTE_COUNT	1040293
+SHUFFLE	COPY_MAP_DATA	19759000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	691816
+SHUFFLE	COMPRESS_BYTE_COUNT	691820
+SHUFFLE	COPY_MAP_DATA	18043000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	758288
+SHUFFLE	COMPRESS_BYTE_COUNT	758292
+SHUFFLE	COPY_MAP_DATA	111214000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	766668
+SHUFFLE	COMPRESS_BYTE_COUNT	766672
+SHUFFLE	COPY_MAP_DATA	16234000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	849323
+SHUFFLE	COMPRESS_BYTE_COUNT	849327
+SHUFFLE	COPY_MAP_DATA	337693000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1107885
+SHUFFLE	COMPRESS_BYTE_COUNT	1107889
+SHUFFLE	COPY_MAP_DATA	66129000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	834349
+SHUFFLE	COMPRESS_BYTE_COUNT	834353
+SHUFFLE	COPY_MAP_DATA	266543000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	848163
+SHUFFLE	COMPRESS_BYTE_COUNT	848167
+SHUFFLE	COPY_MAP_DATA	1225160000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	910517
+SHUFFLE	COMPRESS_BYTE_COUNT	910521
+SHUFFLE	COPY_MAP_DATA	25492000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	746965
+SHUFFLE	COMPRESS_BYTE_COUNT	746969
+SHUFFLE	COPY_MAP_DATA	2191914000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	804950
+SHUFFLE	COMPRESS_BYTE_COUNT	804954
+SHUFFLE	COPY_MAP_DATA	851465000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1400257
+SHUFFLE	COMPRESS_BYTE_COUNT	1400261
+SHUFFLE	COPY_MAP_DATA	49455000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	963759
+SHUFFLE	COMPRESS_BYTE_COUNT	963763
+SHUFFLE	COPY_MAP_DATA	14850000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	863660
+SHUFFLE	COMPRESS_BYTE_COUNT	863664
+SHUFFLE	COPY_MAP_DATA	15416000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	795865
+SHUFFLE	COMPRESS_BYTE_COUNT	795869
+SHUFFLE	COPY_MAP_DATA	17117000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	726383
+SHUFFLE	COMPRESS_BYTE_COUNT	726387
+SHUFFLE	COPY_MAP_DATA	2574488000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	822646
+SHUFFLE	COMPRESS_BYTE_COUNT	822650
+SHUFFLE	COPY_MAP_DATA	1188679000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	939967
+SHUFFLE	COMPRESS_BYTE_COUNT	939971
+SHUFFLE	COPY_MAP_DATA	740516000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	828822
+SHUFFLE	COMPRESS_BYTE_COUNT	828826
+SHUFFLE	COPY_MAP_DATA	726362000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	750323
+SHUFFLE	COMPRESS_BYTE_COUNT	750327
+SHUFFLE	COPY_MAP_DATA	13785000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	781470
+SHUFFLE	COMPRESS_BYTE_COUNT	781474
+SHUFFLE	COPY_MAP_DATA	17231000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	777874
+SHUFFLE	COMPRESS_BYTE_COUNT	777878
+SHUFFLE	COPY_MAP_DATA	1088997000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	660260
+SHUFFLE	COMPRESS_BYTE_COUNT	660264
+SHUFFLE	COPY_MAP_DATA	386621000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1086912
+SHUFFLE	COMPRESS_BYTE_COUNT	1086916
+SHUFFLE	COPY_MAP_DATA	363376000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	800991
+SHUFFLE	COMPRESS_BYTE_COUNT	800995
+SHUFFLE	COPY_MAP_DATA	69500000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	961503
+SHUFFLE	COMPRESS_BYTE_COUNT	961507
+SHUFFLE	COPY_MAP_DATA	172252000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	745235
+SHUFFLE	COMPRESS_BYTE_COUNT	745239
+SHUFFLE	COPY_MAP_DATA	16857000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1813511
+SHUFFLE	COMPRESS_BYTE_COUNT	1813515
+SHUFFLE	COPY_MAP_DATA	652147000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1013742
+SHUFFLE	COMPRESS_BYTE_COUNT	1013746
+SHUFFLE	COPY_MAP_DATA	18963000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	864300
+SHUFFLE	COMPRESS_BYTE_COUNT	864304
+SHUFFLE	COPY_MAP_DATA	25471000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	782687
+SHUFFLE	COMPRESS_BYTE_COUNT	782691
+SHUFFLE	COPY_MAP_DATA	6866000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	111805737000
+MERGE	READ_WRITE	109407942000
+MERGE	READ_WRITE_COUNT	2
+MERGE	COMBINE	0
+MERGE	WRITE	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	18059274000
+SORT	READ_WRITE	17911389000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	128674952
+REDUCE	SETUP	321000
+REDUCE	SETUP_MEM	128674952
+REDUCE	CLEANUP	45000
+REDUCE	CLEANUP_MEM	141206056
+REDUCE	TOTAL_RUN	110292293000
+REDUCE	READ	9651719000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	94111714000
+REDUCE	WRITE	31223666000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	74137003
+REDUCE	VALUE_BYTE_COUNT	67705899
+REDUCE	REDUCE_MEM	141208104
+REDUCE	WRITE	30346000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	663650086000
@@ -0,0 +1,1333 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1879276
+SHUFFLE	COMPRESS_BYTE_COUNT	1879280
+SHUFFLE	COPY_MAP_DATA	3245621000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1775668
+SHUFFLE	COMPRESS_BYTE_COUNT	1775672
+SHUFFLE	COPY_MAP_DATA	55684000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1923470
+SHUFFLE	COMPRESS_BYTE_COUNT	1923474
+SHUFFLE	COPY_MAP_DATA	24191000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1969303
+SHUFFLE	COMPRESS_BYTE_COUNT	1969307
+SHUFFLE	COPY_MAP_DATA	59554000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2003099
+SHUFFLE	COMPRESS_BYTE_COUNT	2003103
+SHUFFLE	COPY_MAP_DATA	90085000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1643382
+SHUFFLE	COMPRESS_BYTE_COUNT	1643386
+SHUFFLE	COPY_MAP_DATA	26003000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1741035
+SHUFFLE	COMPRESS_BYTE_COUNT	1741039
+SHUFFLE	COPY_MAP_DATA	231626000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1888129
+SHUFFLE	COMPRESS_BYTE_COUNT	1888133
+SHUFFLE	COPY_MAP_DATA	44193000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1866756
+SHUFFLE	COMPRESS_BYTE_COUNT	1866760
+SHUFFLE	COPY_MAP_DATA	27736000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1980039
+SHUFFLE	COMPRESS_BYTE_COUNT	1980043
+SHUFFLE	COPY_MAP_DATA	83768000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1822462
+SHUFFLE	COMPRESS_BYTE_COUNT	1822466
+SHUFFLE	COPY_MAP_DATA	48944000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1873791
+SHUFFLE	COMPRESS_BYTE_COUNT	1873795
+SHUFFLE	COPY_MAP_DATA	81511000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1960793
+SHUFFLE	COMPRESS_BYTE_COUNT	1960797
+SHUFFLE	COPY_MAP_DATA	31870000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1784021
+SHUFFLE	COMPRESS_BYTE_COUNT	1784025
+SHUFFLE	COPY_MAP_DATA	26612000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1928715
+SHUFFLE	COMPRESS_BYTE_COUNT	1928719
+SHUFFLE	COPY_MAP_DATA	66443000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1963292
+SHUFFLE	COMPRESS_BYTE_COUNT	1963296
+SHUFFLE	COPY_MAP_DATA	33335000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1975850
+SHUFFLE	COMPRESS_BYTE_COUNT	1975854
+SHUFFLE	COPY_MAP_DATA	257224000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1976297
+SHUFFLE	COMPRESS_BYTE_COUNT	1976301
+SHUFFLE	COPY_MAP_DATA	27078000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2089101
+SHUFFLE	COMPRESS_BYTE_COUNT	2089105
+SHUFFLE	COPY_MAP_DATA	20174000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1820415
+SHUFFLE	COMPRESS_BYTE_COUNT	1820419
+SHUFFLE	COPY_MAP_DATA	23016000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1863410
+SHUFFLE	COMPRESS_BYTE_COUNT	1863414
+SHUFFLE	COPY_MAP_DATA	597322000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2000900
+SHUFFLE	COMPRESS_BYTE_COUNT	2000904
+SHUFFLE	COPY_MAP_DATA	38405000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2034345
+SHUFFLE	COMPRESS_BYTE_COUNT	2034349
+SHUFFLE	COPY_MAP_DATA	46217000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1844555
+SHUFFLE	COMPRESS_BYTE_COUNT	1844559
+SHUFFLE	COPY_MAP_DATA	217896000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1907317
+SHUFFLE	COMPRESS_BYTE_COUNT	1907321
+SHUFFLE	COPY_MAP_DATA	118999000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1878087
+SHUFFLE	COMPRESS_BYTE_COUNT	1878091
+SHUFFLE	COPY_MAP_DATA	79222000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2049861
+SHUFFLE	COMPRESS_BYTE_COUNT	2049865
+SHUFFLE	COPY_MAP_DATA	130102000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1939340
+SHUFFLE	COMPRESS_BYTE_COUNT	1939344
+SHUFFLE	COPY_MAP_DATA	32750000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1850457
+SHUFFLE	COMPRESS_BYTE_COUNT	1850461
+SHUFFLE	COPY_MAP_DATA	3896315000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1966597
+SHUFFLE	COMPRESS_BYTE_COUNT	1966601
+SHUFFLE	COPY_MAP_DATA	26759000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1808238
+SHUFFLE	COMPRESS_BYTE_COUNT	1808242
+SHUFFLE	COPY_MAP_DATA	254351000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1943027
+SHUFFLE	COMPRESS_BYTE_COUNT	1943031
+SHUFFLE	COPY_MAP_DATA	5182434000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1755408
+SHUFFLE	COMPRESS_BYTE_COUNT	1755412
+SHUFFLE	COPY_MAP_DATA	93358000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1866475
+SHUFFLE	COMPRESS_BYTE_COUNT	1866479
+SHUFFLE	COPY_MAP_DATA	3105376000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1790827
+SHUFFLE	COMPRESS_BYTE_COUNT	1790831
+SHUFFLE	COPY_MAP_DATA	140563000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2110238
+SHUFFLE	COMPRESS_BYTE_COUNT	2110242
+SHUFFLE	COPY_MAP_DATA	173123000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1714088
+SHUFFLE	COMPRESS_BYTE_COUNT	1714092
+SHUFFLE	COPY_MAP_DATA	201471000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1791987
+SHUFFLE	COMPRESS_BYTE_COUNT	1791991
+SHUFFLE	COPY_MAP_DATA	57216000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1540599
+SHUFFLE	COMPRESS_BYTE_COUNT	1540603
+SHUFFLE	COPY_MAP_DATA	32223000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1863955
+SHUFFLE	COMPRESS_BYTE_COUNT	1863959
+SHUFFLE	COPY_MAP_DATA	31842000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1601310
+SHUFFLE	COMPRESS_BYTE_COUNT	1601314
+SHUFFLE	COPY_MAP_DATA	54565000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1917856
+SHUFFLE	COMPRESS_BYTE_COUNT	1917860
+SHUFFLE	COPY_MAP_DATA	63664000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1836614
+SHUFFLE	COMPRESS_BYTE_COUNT	1836618
+SHUFFLE	COPY_MAP_DATA	29392000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1834435
+SHUFFLE	COMPRESS_BYTE_COUNT	1834439
+SHUFFLE	COPY_MAP_DATA	1138688000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1899946
+SHUFFLE	COMPRESS_BYTE_COUNT	1899950
+SHUFFLE	COPY_MAP_DATA	62623000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1748463
+SHUFFLE	COMPRESS_BYTE_COUNT	1748467
+SHUFFLE	COPY_MAP_DATA	22669000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1704122
+SHUFFLE	COMPRESS_BYTE_COUNT	1704126
+SHUFFLE	COPY_MAP_DATA	465942000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1870893
+SHUFFLE	COMPRESS_BYTE_COUNT	1870897
+SHUFFLE	COPY_MAP_DATA	784737000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1818662
+SHUFFLE	COMPRESS_BYTE_COUNT	1818666
+SHUFFLE	COPY_MAP_DATA	25127000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1783369
+SHUFFLE	COMPRESS_BYTE_COUNT	1783373
+SHUFFLE	COPY_MAP_DATA	30993000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1581833
+SHUFFLE	COMPRESS_BYTE_COUNT	1581837
+SHUFFLE	COPY_MAP_DATA	32688000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1758132
+SHUFFLE	COMPRESS_BYTE_COUNT	1758136
+SHUFFLE	COPY_MAP_DATA	91669000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1681214
+SHUFFLE	COMPRESS_BYTE_COUNT	1681218
+SHUFFLE	COPY_MAP_DATA	127017000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1687798
+SHUFFLE	COMPRESS_BYTE_COUNT	1687802
+SHUFFLE	COPY_MAP_DATA	1881236000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1638616
+SHUFFLE	COMPRESS_BYTE_COUNT	1638620
+SHUFFLE	COPY_MAP_DATA	30479000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1785587
+SHUFFLE	COMPRESS_BYTE_COUNT	1785591
+SHUFFLE	COPY_MAP_DATA	40255000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1839571
+SHUFFLE	COMPRESS_BYTE_COUNT	1839575
+SHUFFLE	COPY_MAP_DATA	27742000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1928228
+SHUFFLE	COMPRESS_BYTE_COUNT	1928232
+SHUFFLE	COPY_MAP_DATA	30220000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1733844
+SHUFFLE	COMPRESS_BYTE_COUNT	1733848
+SHUFFLE	COPY_MAP_DATA	30272000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1683029
+SHUFFLE	COMPRESS_BYTE_COUNT	1683033
+SHUFFLE	COPY_MAP_DATA	1523571000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1597118
+SHUFFLE	COMPRESS_BYTE_COUNT	1597122
+SHUFFLE	COPY_MAP_DATA	33717000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1586002
+SHUFFLE	COMPRESS_BYTE_COUNT	1586006
+SHUFFLE	COPY_MAP_DATA	146728000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1926453
+SHUFFLE	COMPRESS_BYTE_COUNT	1926457
+SHUFFLE	COPY_MAP_DATA	30460000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1590619
+SHUFFLE	COMPRESS_BYTE_COUNT	1590623
+SHUFFLE	COPY_MAP_DATA	785302000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1521598
+SHUFFLE	COMPRESS_BYTE_COUNT	1521602
+SHUFFLE	COPY_MAP_DATA	32459000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1572486
+SHUFFLE	COMPRESS_BYTE_COUNT	1572490
+SHUFFLE	COPY_MAP_DATA	46337000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1574261
+SHUFFLE	COMPRESS_BYTE_COUNT	1574265
+SHUFFLE	COPY_MAP_DATA	22815000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1584634
+SHUFFLE	COMPRESS_BYTE_COUNT	1584638
+SHUFFLE	COPY_MAP_DATA	31535000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1501552
+SHUFFLE	COMPRESS_BYTE_COUNT	1501556
+SHUFFLE	COPY_MAP_DATA	27153000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1696499
+SHUFFLE	COMPRESS_BYTE_COUNT	1696503
+SHUFFLE	COPY_MAP_DATA	12272621000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1589133
+SHUFFLE	COMPRESS_BYTE_COUNT	1589137
+SHUFFLE	COPY_MAP_DATA	49170000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1853634
+SHUFFLE	COMPRESS_BYTE_COUNT	1853638
+SHUFFLE	COPY_MAP_DATA	116762000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1551484
+SHUFFLE	COMPRESS_BYTE_COUNT	1551488
+SHUFFLE	COPY_MAP_DATA	27866000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1557360
+SHUFFLE	COMPRESS_BYTE_COUNT	1557364
+SHUFFLE	COPY_MAP_DATA	31169000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1799086
+SHUFFLE	COMPRESS_BYTE_COUNT	1799090
+SHUFFLE	COPY_MAP_DATA	39768000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1501367
+SHUFFLE	COMPRESS_BYTE_COUNT	1501371
+SHUFFLE	COPY_MAP_DATA	24206000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1625030
+SHUFFLE	COMPRESS_BYTE_COUNT	1625034
+SHUFFLE	COPY_MAP_DATA	54774000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1674354
+SHUFFLE	COMPRESS_BYTE_COUNT	1674358
+SHUFFLE	COPY_MAP_DATA	126135000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1778264
+SHUFFLE	COMPRESS_BYTE_COUNT	1778268
+SHUFFLE	COPY_MAP_DATA	51089000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1634159
+SHUFFLE	COMPRESS_BYTE_COUNT	1634163
+SHUFFLE	COPY_MAP_DATA	27865000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1673416
+SHUFFLE	COMPRESS_BYTE_COUNT	1673420
+SHUFFLE	COPY_MAP_DATA	26182000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1723266
+SHUFFLE	COMPRESS_BYTE_COUNT	1723270
+SHUFFLE	COPY_MAP_DATA	35702000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1557542
+SHUFFLE	COMPRESS_BYTE_COUNT	1557546
+SHUFFLE	COPY_MAP_DATA	224560000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1658916
+SHUFFLE	COMPRESS_BYTE_COUNT	1658920
+SHUFFLE	COPY_MAP_DATA	864830000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2061953
+SHUFFLE	COMPRESS_BYTE_COUNT	2061957
+SHUFFLE	COPY_MAP_DATA	17097000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1513987
+SHUFFLE	COMPRESS_BYTE_COUNT	1513991
+SHUFFLE	COPY_MAP_DATA	40587000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1465561
+SHUFFLE	COMPRESS_BYTE_COUNT	1465565
+SHUFFLE	COPY_MAP_DATA	310698000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1516727
+SHUFFLE	COMPRESS_BYTE_COUNT	1516731
+SHUFFLE	COPY_MAP_DATA	5693896000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1771316
+SHUFFLE	COMPRESS_BYTE_COUNT	1771320
+SHUFFLE	COPY_MAP_DATA	2410446000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	784935
+SHUFFLE	COMPRESS_BYTE_COUNT	784939
+SHUFFLE	COPY_MAP_DATA	1294725000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	900444
+SHUFFLE	COMPRESS_BYTE_COUNT	900448
+SHUFFLE	COPY_MAP_DATA	270912000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1515176
+SHUFFLE	COMPRESS_BYTE_COUNT	1515180
+SHUFFLE	COPY_MAP_DATA	592340000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	858449
+SHUFFLE	COMPRESS_BYTE_COUNT	858453
+SHUFFLE	COPY_MAP_DATA	16961000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1608610
+SHUFFLE	COMPRESS_BYTE_COUNT	1608614
+SHUFFLE	COPY_MAP_DATA	1543124000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	840593
+SHUFFLE	COMPRESS_BYTE_COUNT	840597
+SHUFFLE	COPY_MAP_DATA	20359000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1819084
+SHUFFLE	COMPRESS_BYTE_COUNT	1819088
+SHUFFLE	COPY_MAP_DATA	32595000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	985331
+SHUFFLE	COMPRESS_BYTE_COUNT	985335
+SHUFFLE	COPY_MAP_DATA	19917000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1477275
+SHUFFLE	COMPRESS_BYTE_COUNT	1477279
+SHUFFLE	COPY_MAP_DATA	56113000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1421029
+SHUFFLE	COMPRESS_BYTE_COUNT	1421033
+SHUFFLE	COPY_MAP_DATA	71925000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1006272
+SHUFFLE	COMPRESS_BYTE_COUNT	1006276
+SHUFFLE	COPY_MAP_DATA	23146000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1771542
+SHUFFLE	COMPRESS_BYTE_COUNT	1771546
+SHUFFLE	COPY_MAP_DATA	33760000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	975270
+SHUFFLE	COMPRESS_BYTE_COUNT	975274
+SHUFFLE	COPY_MAP_DATA	125401000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1753536
+SHUFFLE	COMPRESS_BYTE_COUNT	1753540
+SHUFFLE	COPY_MAP_DATA	1849825000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1671479
+SHUFFLE	COMPRESS_BYTE_COUNT	1671483
+SHUFFLE	COPY_MAP_DATA	1420775000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1401417
+SHUFFLE	COMPRESS_BYTE_COUNT	1401421
+SHUFFLE	COPY_MAP_DATA	271959000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1605393
+SHUFFLE	COMPRESS_BYTE_COUNT	1605397
+SHUFFLE	COPY_MAP_DATA	477799000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1058235
+SHUFFLE	COMPRESS_BYTE_COUNT	1058239
+SHUFFLE	COPY_MAP_DATA	19382000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	957770
+SHUFFLE	COMPRESS_BYTE_COUNT	957774
+SHUFFLE	COPY_MAP_DATA	19245000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1540345
+SHUFFLE	COMPRESS_BYTE_COUNT	1540349
+SHUFFLE	COPY_MAP_DATA	26002000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1793615
+SHUFFLE	COMPRESS_BYTE_COUNT	1793619
+SHUFFLE	COPY_MAP_DATA	21662000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1687548
+SHUFFLE	COMPRESS_BYTE_COUNT	1687552
+SHUFFLE	COPY_MAP_DATA	23115000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1691927
+SHUFFLE	COMPRESS_BYTE_COUNT	1691931
+SHUFFLE	COPY_MAP_DATA	24651000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1533234
+SHUFFLE	COMPRESS_BYTE_COUNT	1533238
+SHUFFLE	COPY_MAP_DATA	78187000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1003025
+SHUFFLE	COMPRESS_BYTE_COUNT	1003029
+SHUFFLE	COPY_MAP_DATA	23258000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	944866
+SHUFFLE	COMPRESS_BYTE_COUNT	944870
+SHUFFLE	COPY_MAP_DATA	9017000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1028075
+SHUFFLE	COMPRESS_BYTE_COUNT	1028079
+SHUFFLE	COPY_MAP_DATA	19064000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	951783
+SHUFFLE	COMPRESS_BYTE_COUNT	951787
+SHUFFLE	COPY_MAP_DATA	78072000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1628785
+SHUFFLE	COMPRESS_BYTE_COUNT	1628789
+SHUFFLE	COPY_MAP_DATA	1537788000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1569462
+SHUFFLE	COMPRESS_BYTE_COUNT	1569466
+SHUFFLE	COPY_MAP_DATA	187950000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1560619
+SHUFFLE	COMPRESS_BYTE_COUNT	1560623
+SHUFFLE	COPY_MAP_DATA	24089000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	969516
+SHUFFLE	COMPRESS_BYTE_COUNT	969520
+SHUFFLE	COPY_MAP_DATA	17683000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	967388
+SHUFFLE	COMPRESS_BYTE_COUNT	967392
+SHUFFLE	COPY_MAP_DATA	97039000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	955210
+SHUFFLE	COMPRESS_BYTE_COUNT	955214
+SHUFFLE	COPY_MAP_DATA	217885993
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1011057
+SHUFFLE	COMPRESS_BYTE_COUNT	1011061
+SHUFFLE	COPY_MAP_DATA	20708000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1008911
+SHUFFLE	COMPRESS_BYTE_COUNT	1008915
+SHUFFLE	COPY_MAP_DATA	18597000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	835086
+SHUFFLE	COMPRESS_BYTE_COUNT	835090
+SHUFFLE	COPY_MAP_DATA	15156000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	982279
+SHUFFLE	COMPRESS_BYTE_COUNT	982283
+SHUFFLE	COPY_MAP_DATA	96629000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	971826
+SHUFFLE	COMPRESS_BYTE_COUNT	971830
+SHUFFLE	COPY_MAP_DATA	122284000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	910285
+SHUFFLE	COMPRESS_BYTE_COUNT	910289
+SHUFFLE	COPY_MAP_DATA	33285000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	940174
+SHUFFLE	COMPRESS_BYTE_COUNT	940178
+SHUFFLE	COPY_MAP_DATA	32566000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	913266
+SHUFFLE	COMPRESS_BYTE_COUNT	913270
+SHUFFLE	COPY_MAP_DATA	20806000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	991329
+SHUFFLE	COMPRESS_BYTE_COUNT	991333
+SHUFFLE	COPY_MAP_DATA	1493850000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	961629
+SHUFFLE	COMPRESS_BYTE_COUNT	961633
+SHUFFLE	COPY_MAP_DATA	83215000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	987026
+SHUFFLE	COMPRESS_BYTE_COUNT	987030
+SHUFFLE	COPY_MAP_DATA	23145000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	975764
+SHUFFLE	COMPRESS_BYTE_COUNT	975768
+SHUFFLE	COPY_MAP_DATA	367953000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	961843
+SHUFFLE	COMPRESS_BYTE_COUNT	961847
+SHUFFLE	COPY_MAP_DATA	17107000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	914975
+SHUFFLE	COMPRESS_BYTE_COUNT	914979
+SHUFFLE	COPY_MAP_DATA	273151000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1002677
+SHUFFLE	COMPRESS_BYTE_COUNT	1002681
+SHUFFLE	COPY_MAP_DATA	942557000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1532264
+SHUFFLE	COMPRESS_BYTE_COUNT	1532268
+SHUFFLE	COPY_MAP_DATA	9713435000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	967265
+SHUFFLE	COMPRESS_BYTE_COUNT	967269
+SHUFFLE	COPY_MAP_DATA	47884000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1010525
+SHUFFLE	COMPRESS_BYTE_COUNT	1010529
+SHUFFLE	COPY_MAP_DATA	51224000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	970780
+SHUFFLE	COMPRESS_BYTE_COUNT	970784
+SHUFFLE	COPY_MAP_DATA	18946000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	998225
+SHUFFLE	COMPRESS_BYTE_COUNT	998229
+SHUFFLE	COPY_MAP_DATA	11278000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1078046
+SHUFFLE	COMPRESS_BYTE_COUNT	1078050
+SHUFFLE	COPY_MAP_DATA	23104000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	931949
+SHUFFLE	COMPRESS_BYTE_COUNT	931953
+SHUFFLE	COPY_MAP_DATA	76263000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	951111
+SHUFFLE	COMPRESS_BYTE_COUNT	951115
+SHUFFLE	COPY_MAP_DATA	30818000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	975561
+SHUFFLE	COMPRESS_BYTE_COUNT	975565
+SHUFFLE	COPY_MAP_DATA	329937000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	954697
+SHUFFLE	COMPRESS_BYTE_COUNT	954701
+SHUFFLE	COPY_MAP_DATA	49547000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	945937
+SHUFFLE	COMPRESS_BYTE_COUNT	945941
+SHUFFLE	COPY_MAP_DATA	55775000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	974646
+SHUFFLE	COMPRESS_BYTE_COUNT	974650
+SHUFFLE	COPY_MAP_DATA	101011000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1078037
+SHUFFLE	COMPRESS_BYTE_COUNT	1078041
+SHUFFLE	COPY_MAP_DATA	22137000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	906100
+SHUFFLE	COMPRESS_BYTE_COUNT	906104
+SHUFFLE	COPY_MAP_DATA	222674000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1005072
+SHUFFLE	COMPRESS_BYTE_COUNT	1005076
+SHUFFLE	COPY_MAP_DATA	304367000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1008597
+SHUFFLE	COMPRESS_BYTE_COUNT	1008601
+SHUFFLE	COPY_MAP_DATA	16181000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	917585
+SHUFFLE	COMPRESS_BYTE_COUNT	917589
+SHUFFLE	COPY_MAP_DATA	19952000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1020635
+SHUFFLE	COMPRESS_BYTE_COUNT	1020639
+SHUFFLE	COPY_MAP_DATA	352405000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	924068
+SHUFFLE	COMPRESS_BYTE_COUNT	924072
+SHUFFLE	COPY_MAP_DATA	216725000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	954071
+SHUFFLE	COMPRESS_BYTE_COUNT	954075
+SHUFFLE	COPY_MAP_DATA	264218000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	959536
+SHUFFLE	COMPRESS_BYTE_COUNT	959540
+SHUFFLE	COPY_MAP_DATA	18567000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	942194
+SHUFFLE	COMPRESS_BYTE_COUNT	942198
+SHUFFLE	COPY_MAP_DATA	281924000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	931867
+SHUFFLE	COMPRESS_BYTE_COUNT	931871
+SHUFFLE	COPY_MAP_DATA	17105000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	972069
+SHUFFLE	COMPRESS_BYTE_COUNT	972073
+SHUFFLE	COPY_MAP_DATA	33435000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	958322
+SHUFFLE	COMPRESS_BYTE_COUNT	958326
+SHUFFLE	COPY_MAP_DATA	17806000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	954661
+SHUFFLE	COMPRESS_BYTE_COUNT	954665
+SHUFFLE	COPY_MAP_DATA	2627470000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	945287
+SHUFFLE	COMPRESS_BYTE_COUNT	945291
+SHUFFLE	COPY_MAP_DATA	320242000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1089605
+SHUFFLE	COMPRESS_BYTE_COUNT	1089609
+SHUFFLE	COPY_MAP_DATA	40418000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	958000
+SHUFFLE	COMPRESS_BYTE_COUNT	958004
+SHUFFLE	COPY_MAP_DATA	19508000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	869570
+SHUFFLE	COMPRESS_BYTE_COUNT	869574
+SHUFFLE	COPY_MAP_DATA	16993000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	931291
+SHUFFLE	COMPRESS_BYTE_COUNT	931295
+SHUFFLE	COPY_MAP_DATA	17253000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	948892
+SHUFFLE	COMPRESS_BYTE_COUNT	948896
+SHUFFLE	COPY_MAP_DATA	10168000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	897359
+SHUFFLE	COMPRESS_BYTE_COUNT	897363
+SHUFFLE	COPY_MAP_DATA	75813000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	936397
+SHUFFLE	COMPRESS_BYTE_COUNT	936401
+SHUFFLE	COPY_MAP_DATA	17295000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	963781
+SHUFFLE	COMPRESS_BYTE_COUNT	963785
+SHUFFLE	COPY_MAP_DATA	50192000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	899666
+SHUFFLE	COMPRESS_BYTE_COUNT	899670
+SHUFFLE	COPY_MAP_DATA	208029000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	915793
+SHUFFLE	COMPRESS_BYTE_COUNT	915797
+SHUFFLE	COPY_MAP_DATA	20066000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	954453
+SHUFFLE	COMPRESS_BYTE_COUNT	954457
+SHUFFLE	COPY_MAP_DATA	22444000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	931463
+SHUFFLE	COMPRESS_BYTE_COUNT	931467
+SHUFFLE	COPY_MAP_DATA	32198000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	908574
+SHUFFLE	COMPRESS_BYTE_COUNT	908578
+SHUFFLE	COPY_MAP_DATA	65384000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	923636
+SHUFFLE	COMPRESS_BYTE_COUNT	923640
+SHUFFLE	COPY_MAP_DATA	18088000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	939028
+SHUFFLE	COMPRESS_BYTE_COUNT	939032
+SHUFFLE	COPY_MAP_DATA	17226000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	927560
+SHUFFLE	COMPRESS_BYTE_COUNT	927564
+SHUFFLE	COPY_MAP_DATA	1242620000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	879307
+SHUFFLE	COMPRESS_BYTE_COUNT	879311
+SHUFFLE	COPY_MAP_DATA	567537000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	956208
+SHUFFLE	COMPRESS_BYTE_COUNT	956212
+SHUFFLE	COPY_MAP_DATA	555962000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	904716
+SHUFFLE	COMPRESS_BYTE_COUNT	904720
+SHUFFLE	COPY_MAP_DATA	18128000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	943677
+SHUFFLE	COMPRESS_BYTE_COUNT	943681
+SHUFFLE	COPY_MAP_DATA	26210000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	965821
+SHUFFLE	COMPRESS_BYTE_COUNT	965825
+SHUFFLE	COPY_MAP_DATA	19255000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	895896
+SHUFFLE	COMPRESS_BYTE_COUNT	895900
+SHUFFLE	COPY_MAP_DATA	21691000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	924612
+SHUFFLE	COMPRESS_BYTE_COUNT	924616
+SHUFFLE	COPY_MAP_DATA	315903000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	889407
+SHUFFLE	COMPRESS_BYTE_COUNT	889411
+SHUFFLE	COPY_MAP_DATA	152738000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	911847
+SHUFFLE	COMPRESS_BYTE_COUNT	911851
+SHUFFLE	COPY_MAP_DATA	16486000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	866376
+SHUFFLE	COMPRESS_BYTE_COUNT	866380
+SHUFFLE	COPY_MAP_DATA	642687000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	893964
+SHUFFLE	COMPRESS_BYTE_COUNT	893968
+SHUFFLE	COPY_MAP_DATA	15974000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	858051
+SHUFFLE	COMPRESS_BYTE_COUNT	858055
+SHUFFLE	COPY_MAP_DATA	152815000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	909825
+SHUFFLE	COMPRESS_BYTE_COUNT	909829
+SHUFFLE	COPY_MAP_DATA	18560000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	872449
+SHUFFLE	COMPRESS_BYTE_COUNT	872453
+SHUFFLE	COPY_MAP_DATA	17619000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	934276
+SHUFFLE	COMPRESS_BYTE_COUNT	934280
+SHUFFLE	COPY_MAP_DATA	17178000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	910368
+SHUFFLE	COMPRESS_BYTE_COUNT	910372
+SHUFFLE	COPY_MAP_DATA	22317000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	873143
+SHUFFLE	COMPRESS_BYTE_COUNT	873147
+SHUFFLE	COPY_MAP_DATA	44691000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	867007
+SHUFFLE	COMPRESS_BYTE_COUNT	867011
+SHUFFLE	COPY_MAP_DATA	39860000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	890056
+SHUFFLE	COMPRESS_BYTE_COUNT	890060
+SHUFFLE	COPY_MAP_DATA	318386000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	854032
+SHUFFLE	COMPRESS_BYTE_COUNT	854036
+SHUFFLE	COPY_MAP_DATA	1750845000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	871328
+SHUFFLE	COMPRESS_BYTE_COUNT	871332
+SHUFFLE	COPY_MAP_DATA	666449000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	914646
+SHUFFLE	COMPRESS_BYTE_COUNT	914650
+SHUFFLE	COPY_MAP_DATA	10281000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	881621
+SHUFFLE	COMPRESS_BYTE_COUNT	881625
+SHUFFLE	COPY_MAP_DATA	87071000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	854162
+SHUFFLE	COMPRESS_BYTE_COUNT	854166
+SHUFFLE	COPY_MAP_DATA	1613655000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	904102
+SHUFFLE	COMPRESS_BYTE_COUNT	904106
+SHUFFLE	COPY_MAP_DATA	19866000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	879132
+SHUFFLE	COMPRESS_BYTE_COUNT	879136
+SHUFFLE	COPY_MAP_DATA	26069000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	834839
+SHUFFLE	COMPRESS_BYTE_COUNT	834843
+SHUFFLE	COPY_MAP_DATA	13969000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	870943
+SHUFFLE	COMPRESS_BYTE_COUNT	870947
+SHUFFLE	COPY_MAP_DATA	11746000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	816655
+SHUFFLE	COMPRESS_BYTE_COUNT	816659
+SHUFFLE	COPY_MAP_DATA	620193000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	745183
+SHUFFLE	COMPRESS_BYTE_COUNT	745187
+SHUFFLE	COPY_MAP_DATA	197502000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	870795
+SHUFFLE	COMPRESS_BYTE_COUNT	870799
+SHUFFLE	COPY_MAP_DATA	18825000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	842762
+SHUFFLE	COMPRESS_BYTE_COUNT	842766
+SHUFFLE	COPY_MAP_DATA	416009000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	808183
+SHUFFLE	COMPRESS_BYTE_COUNT	808187
+SHUFFLE	COPY_MAP_DATA	16451000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	811565
+SHUFFLE	COMPRESS_BYTE_COUNT	811569
+SHUFFLE	COPY_MAP_DATA	4560212000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	860703
+SHUFFLE	COMPRESS_BYTE_COUNT	860707
+SHUFFLE	COPY_MAP_DATA	18607000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	950015
+SHUFFLE	COMPRESS_BYTE_COUNT	950019
+SHUFFLE	COPY_MAP_DATA	20046000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	878982
+SHUFFLE	COMPRESS_BYTE_COUNT	878986
+SHUFFLE	COPY_MAP_DATA	22317000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	858409
+SHUFFLE	COMPRESS_BYTE_COUNT	858413
+SHUFFLE	COPY_MAP_DATA	22053000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	765300
+SHUFFLE	COMPRESS_BYTE_COUNT	765304
+SHUFFLE	COPY_MAP_DATA	25761000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	993954
+SHUFFLE	COMPRESS_BYTE_COUNT	993958
+SHUFFLE	COPY_MAP_DATA	20805000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	880316
+SHUFFLE	COMPRESS_BYTE_COUNT	880320
+SHUFFLE	COPY_MAP_DATA	1001007000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	814766
+SHUFFLE	COMPRESS_BYTE_COUNT	814770
+SHUFFLE	COPY_MAP_DATA	16462000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	815873
+SHUFFLE	COMPRESS_BYTE_COUNT	815877
+SHUFFLE	COPY_MAP_DATA	9920000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	872488
+SHUFFLE	COMPRESS_BYTE_COUNT	872492
+SHUFFLE	COPY_MAP_DATA	38508000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	853980
+SHUFFLE	COMPRESS_BYTE_COUNT	853984
+SHUFFLE	COPY_MAP_DATA	93345000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	783231
+SHUFFLE	COMPRESS_BYTE_COUNT	783235
+SHUFFLE	COPY_MAP_DATA	507312000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	798993
+SHUFFLE	COMPRESS_BYTE_COUNT	798997
+SHUFFLE	COPY_MAP_DATA	26131000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	747328
+SHUFFLE	COMPRESS_BYTE_COUNT	747332
+SHUFFLE	COPY_MAP_DATA	495763000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	880595
+SHUFFLE	COMPRESS_BYTE_COUNT	880599
+SHUFFLE	COPY_MAP_DATA	105216000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	840010
+SHUFFLE	COMPRESS_BYTE_COUNT	840014
+SHUFFLE	COPY_MAP_DATA	15550000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	983825
+SHUFFLE	COMPRESS_BYTE_COUNT	983829
+SHUFFLE	COPY_MAP_DATA	53747000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	861829
+SHUFFLE	COMPRESS_BYTE_COUNT	861833
+SHUFFLE	COPY_MAP_DATA	45502000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	824992
+SHUFFLE	COMPRESS_BYTE_COUNT	824996
+SHUFFLE	COPY_MAP_DATA	8218000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	795418
+SHUFFLE	COMPRESS_BYTE_COUNT	795422
+SHUFFLE	COPY_MAP_DATA	9725000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	820521
+SHUFFLE	COMPRESS_BYTE_COUNT	820525
+SHUFFLE	COPY_MAP_DATA	2517242000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	986629
+SHUFFLE	COMPRESS_BYTE_COUNT	986633
+SHUFFLE	COPY_MAP_DATA	377630000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	815906
+SHUFFLE	COMPRESS_BYTE_COUNT	815910
+SHUFFLE	COPY_MAP_DATA	217028000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	762796
+SHUFFLE	COMPRESS_BYTE_COUNT	762800
+SHUFFLE	COPY_MAP_DATA	15447000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	790996
+SHUFFLE	COMPRESS_BYTE_COUNT	791000
+SHUFFLE	COPY_MAP_DATA	20152000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	827236
+SHUFFLE	COMPRESS_BYTE_COUNT	827240
+SHUFFLE	COPY_MAP_DATA	20004000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	938256
+SHUFFLE	COMPRESS_BYTE_COUNT	938260
+SHUFFLE	COPY_MAP_DATA	24697000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	814118
+SHUFFLE	COMPRESS_BYTE_COUNT	814122
+SHUFFLE	COPY_MAP_DATA	101625000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1116868
+SHUFFLE	COMPRESS_BYTE_COUNT	1116872
+SHUFFLE	COPY_MAP_DATA	262648000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	776789
+SHUFFLE	COMPRESS_BYTE_COUNT	776793
+SHUFFLE	COPY_MAP_DATA	2664182000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	797066
+SHUFFLE	COMPRESS_BYTE_COUNT	797070
+SHUFFLE	COPY_MAP_DATA	15378000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	839947
+SHUFFLE	COMPRESS_BYTE_COUNT	839951
+SHUFFLE	COPY_MAP_DATA	62732000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	758606
+SHUFFLE	COMPRESS_BYTE_COUNT	758610
+SHUFFLE	COPY_MAP_DATA	200345000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	814619
+SHUFFLE	COMPRESS_BYTE_COUNT	814623
+SHUFFLE	COPY_MAP_DATA	758857000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	769960
+SHUFFLE	COMPRESS_BYTE_COUNT	769964
+SHUFFLE	COPY_MAP_DATA	25994000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	746176
+SHUFFLE	COMPRESS_BYTE_COUNT	746180
+SHUFFLE	COPY_MAP_DATA	14374000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	827966
+SHUFFLE	COMPRESS_BYTE_COUNT	827970
+SHUFFLE	COPY_MAP_DATA	214907000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	801868
+SHUFFLE	COMPRESS_BYTE_COUNT	801872
+SHUFFLE	COPY_MAP_DATA	144533000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	795507
+SHUFFLE	COMPRESS_BYTE_COUNT	795511
+SHUFFLE	COPY_MAP_DATA	23449000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	811875
+SHUFFLE	COMPRESS_BYTE_COUNT	811879
+SHUFFLE	COPY_MAP_DATA	133776000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	768890
+SHUFFLE	COMPRESS_BYTE_COUNT	768894
+SHUFFLE	COPY_MAP_DATA	14826000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	790704
+SHUFFLE	COMPRESS_BYTE_COUNT	790708
+SHUFFLE	COPY_MAP_DATA	11850000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	800572
+SHUFFLE	COMPRESS_BYTE_COUNT	800576
+SHUFFLE	COPY_MAP_DATA	96754000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	747150
+SHUFFLE	COMPRESS_BYTE_COUNT	747154
+SHUFFLE	COPY_MAP_DATA	7977000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	945087
+SHUFFLE	COMPRESS_BYTE_COUNT	945091
+SHUFFLE	COPY_MAP_DATA	703557000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	775424
+SHUFFLE	COMPRESS_BYTE_COUNT	775428
+SHUFFLE	COPY_MAP_DATA	36304000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	751741
+SHUFFLE	COMPRESS_BYTE_COUNT	751745
+SHUFFLE	COPY_MAP_DATA	1234085000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	914812
+SHUFFLE	COMPRESS_BYTE_COUNT	914816
+SHUFFLE	COPY_MAP_DATA	1588641000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1033788
+SHUFFLE	COMPRESS_BYTE_COUNT	1033792
+SHUFFLE	COPY_MAP_DATA	20845000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1179127
+SHUFFLE	COMPRESS_BYTE_COUNT	1179131
+SHUFFLE	COPY_MAP_DATA	298973000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	848208
+SHUFFLE	COMPRESS_BYTE_COUNT	848212
+SHUFFLE	COPY_MAP_DATA	13676000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	788169
+SHUFFLE	COMPRESS_BYTE_COUNT	788173
+SHUFFLE	COPY_MAP_DATA	121670000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	744211
+SHUFFLE	COMPRESS_BYTE_COUNT	744215
+SHUFFLE	COPY_MAP_DATA	26804000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	732664
+SHUFFLE	COMPRESS_BYTE_COUNT	732668
+SHUFFLE	COPY_MAP_DATA	115337000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	735150
+SHUFFLE	COMPRESS_BYTE_COUNT	735154
+SHUFFLE	COPY_MAP_DATA	18989000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	706596
+SHUFFLE	COMPRESS_BYTE_COUNT	706600
+SHUFFLE	COPY_MAP_DATA	42921000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	740584
+SHUFFLE	COMPRESS_BYTE_COUNT	740588
+SHUFFLE	COPY_MAP_DATA	746659000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	801613
+SHUFFLE	COMPRESS_BYTE_COUNT	801617
+SHUFFLE	COPY_MAP_DATA	18115000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	753742
+SHUFFLE	COMPRESS_BYTE_COUNT	753746
+SHUFFLE	COPY_MAP_DATA	421998000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	771385
+SHUFFLE	COMPRESS_BYTE_COUNT	771389
+SHUFFLE	COPY_MAP_DATA	15490000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	769375
+SHUFFLE	COMPRESS_BYTE_COUNT	769379
+SHUFFLE	COPY_MAP_DATA	77549000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	820049
+SHUFFLE	COMPRESS_BYTE_COUNT	820053
+SHUFFLE	COPY_MAP_DATA	15839000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	792625
+SHUFFLE	COMPRESS_BYTE_COUNT	792629
+SHUFFLE	COPY_MAP_DATA	55530000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	799625
+SHUFFLE	COMPRESS_BYTE_COUNT	799629
+SHUFFLE	COPY_MAP_DATA	498872000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	744689
+SHUFFLE	COMPRESS_BYTE_COUNT	744693
+SHUFFLE	COPY_MAP_DATA	46838000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	917259
+SHUFFLE	COMPRESS_BYTE_COUNT	917263
+SHUFFLE	COPY_MAP_DATA	2981753000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	756350
+SHUFFLE	COMPRESS_BYTE_COUNT	756354
+SHUFFLE	COPY_MAP_DATA	140166000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	795136
+SHUFFLE	COMPRESS_BYTE_COUNT	795140
+SHUFFLE	COPY_MAP_DATA	1060353000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	866293
+SHUFFLE	COMPRESS_BYTE_COUNT	866297
+SHUFFLE	COPY_MAP_DATA	1475665000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	769070
+SHUFFLE	COMPRESS_BYTE_COUNT	769074
+SHUFFLE	COPY_MAP_DATA	173575000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	805904
+SHUFFLE	COMPRESS_BYTE_COUNT	805908
+SHUFFLE	COPY_MAP_DATA	255228000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	894001
+SHUFFLE	COMPRESS_BYTE_COUNT	894005
+SHUFFLE	COPY_MAP_DATA	17475000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	751061
+SHUFFLE	COMPRESS_BYTE_COUNT	751065
+SHUFFLE	COPY_MAP_DATA	180967000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	756790
+SHUFFLE	COMPRESS_BYTE_COUNT	756794
+SHUFFLE	COPY_MAP_DATA	1020368000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	808738
+SHUFFLE	COMPRESS_BYTE_COUNT	808742
+SHUFFLE	COPY_MAP_DATA	157212000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	710665
+SHUFFLE	COMPRESS_BYTE_COUNT	710669
+SHUFFLE	COPY_MAP_DATA	581209000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	746061
+SHUFFLE	COMPRESS_BYTE_COUNT	746065
+SHUFFLE	COPY_MAP_DATA	7028154000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	791277
+SHUFFLE	COMPRESS_BYTE_COUNT	791281
+SHUFFLE	COPY_MAP_DATA	43595000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	951474
+SHUFFLE	COMPRESS_BYTE_COUNT	951478
+SHUFFLE	COPY_MAP_DATA	397497000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	982684
+SHUFFLE	COMPRESS_BYTE_COUNT	982688
+SHUFFLE	COPY_MAP_DATA	994106000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	676820
+SHUFFLE	COMPRESS_BYTE_COUNT	676824
+SHUFFLE	COPY_MAP_DATA	13332000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	783292
+SHUFFLE	COMPRESS_BYTE_COUNT	783296
+SHUFFLE	COPY_MAP_DATA	93341000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	822596
+SHUFFLE	COMPRESS_BYTE_COUNT	822600
+SHUFFLE	COPY_MAP_DATA	11488000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	808999
+SHUFFLE	COMPRESS_BYTE_COUNT	809003
+SHUFFLE	COPY_MAP_DATA	103762000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	741585
+SHUFFLE	COMPRESS_BYTE_COUNT	741589
+SHUFFLE	COPY_MAP_DATA	1066807000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	836279
+SHUFFLE	COMPRESS_BYTE_COUNT	836283
+SHUFFLE	COPY_MAP_DATA	100451000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	751061
+SHUFFLE	COMPRESS_BYTE_COUNT	751065
+SHUFFLE	COPY_MAP_DATA	19328000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	739852
+SHUFFLE	COMPRESS_BYTE_COUNT	739856
+SHUFFLE	COPY_MAP_DATA	2862712000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	831601
+SHUFFLE	COMPRESS_BYTE_COUNT	831605
+SHUFFLE	COPY_MAP_DATA	521464000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	902016
+SHUFFLE	COMPRESS_BYTE_COUNT	902020
+SHUFFLE	COPY_MAP_DATA	29006000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	747659
+SHUFFLE	COMPRESS_BYTE_COUNT	747663
+SHUFFLE	COPY_MAP_DATA	13373000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	731348
+SHUFFLE	COMPRESS_BYTE_COUNT	731352
+SHUFFLE	COPY_MAP_DATA	219041000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	823403
+SHUFFLE	COMPRESS_BYTE_COUNT	823407
+SHUFFLE	COPY_MAP_DATA	180436000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	716185
+SHUFFLE	COMPRESS_BYTE_COUNT	716189
+SHUFFLE	COPY_MAP_DATA	12893000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	715731
+SHUFFLE	COMPRESS_BYTE_COUNT	715735
+SHUFFLE	COPY_MAP_DATA	13278000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	702767
+SHUFFLE	COMPRESS_BYTE_COUNT	702771
+SHUFFLE	COPY_MAP_DATA	29427000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	820070
+SHUFFLE	COMPRESS_BYTE_COUNT	820074
+SHUFFLE	COPY_MAP_DATA	51211000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	799109
+SHUFFLE	COMPRESS_BYTE_COUNT	799113
+SHUFFLE	COPY_MAP_DATA	228179000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	777480
+SHUFFLE	COMPRESS_BYTE_COUNT	777484
+SHUFFLE	COPY_MAP_DATA	804306000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	725536
+SHUFFLE	COMPRESS_BYTE_COUNT	725540
+SHUFFLE	COPY_MAP_DATA	527436000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	733157
+SHUFFLE	COMPRESS_BYTE_COUNT	733161
+SHUFFLE	COPY_MAP_DATA	16562000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	819036
+SHUFFLE	COMPRESS_BYTE_COUNT	819040
+SHUFFLE	COPY_MAP_DATA	444562000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	764305
+SHUFFLE	COMPRESS_BYTE_COUNT	764309
+SHUFFLE	COPY_MAP_DATA	559010000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	987485
+SHUFFLE	COMPRESS_BYTE_COUNT	987489
+SHUFFLE	COPY_MAP_DATA	267490000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	661567
+SHUFFLE	COMPRESS_BYTE_COUNT	661571
+SHUFFLE	COPY_MAP_DATA	36654000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	749944
+SHUFFLE	COMPRESS_BYTE_COUNT	749948
+SHUFFLE	COPY_MAP_DATA	52456000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	778839
+SHUFFLE	COMPRESS_BYTE_COUNT	778843
+SHUFFLE	COPY_MAP_DATA	13905000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	956552
+SHUFFLE	COMPRESS_BYTE_COUNT	956556
+SHUFFLE	COPY_MAP_DATA	76993000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	876056
+SHUFFLE	COMPRESS_BYTE_COUNT	876060
+SHUFFLE	COPY_MAP_DATA	16217000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	945409
+SHUFFLE	COMPRESS_BYTE_COUNT	945413
+SHUFFLE	COPY_MAP_DATA	17798000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	807234
+SHUFFLE	COMPRESS_BYTE_COUNT	807238
+SHUFFLE	COPY_MAP_DATA	36893000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	101392394000
+MERGE	READ_WRITE	100607285000
+MERGE	READ_WRITE_COUNT	2
+MERGE	COMBINE	0
+MERGE	WRITE	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	14913957000
+SORT	READ_WRITE	14794355000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	141879032
+REDUCE	SETUP	380000
+REDUCE	SETUP_MEM	141879032
+REDUCE	CLEANUP	44000
+REDUCE	CLEANUP_MEM	127208272
+REDUCE	TOTAL_RUN	114430366000
+REDUCE	READ	9387686000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	97925263000
+REDUCE	WRITE	36829803000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	70184364
+REDUCE	VALUE_BYTE_COUNT	64072260
+REDUCE	REDUCE_MEM	127210320
+REDUCE	WRITE	9988000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	666963140993
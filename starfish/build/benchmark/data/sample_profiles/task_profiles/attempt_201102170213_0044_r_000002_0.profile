@@ -0,0 +1,1333 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1876728
+SHUFFLE	COMPRESS_BYTE_COUNT	1876732
+SHUFFLE	COPY_MAP_DATA	193282000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1969757
+SHUFFLE	COMPRESS_BYTE_COUNT	1969761
+SHUFFLE	COPY_MAP_DATA	32858000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1678243
+SHUFFLE	COMPRESS_BYTE_COUNT	1678247
+SHUFFLE	COPY_MAP_DATA	354314000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1957836
+SHUFFLE	COMPRESS_BYTE_COUNT	1957840
+SHUFFLE	COPY_MAP_DATA	109462000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2018488
+SHUFFLE	COMPRESS_BYTE_COUNT	2018492
+SHUFFLE	COPY_MAP_DATA	39020000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1945527
+SHUFFLE	COMPRESS_BYTE_COUNT	1945531
+SHUFFLE	COPY_MAP_DATA	44009000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1915303
+SHUFFLE	COMPRESS_BYTE_COUNT	1915307
+SHUFFLE	COPY_MAP_DATA	1648389000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1795328
+SHUFFLE	COMPRESS_BYTE_COUNT	1795332
+SHUFFLE	COPY_MAP_DATA	28423000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1847774
+SHUFFLE	COMPRESS_BYTE_COUNT	1847778
+SHUFFLE	COPY_MAP_DATA	54197000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1849427
+SHUFFLE	COMPRESS_BYTE_COUNT	1849431
+SHUFFLE	COPY_MAP_DATA	57804000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1923390
+SHUFFLE	COMPRESS_BYTE_COUNT	1923394
+SHUFFLE	COPY_MAP_DATA	145359000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2079618
+SHUFFLE	COMPRESS_BYTE_COUNT	2079622
+SHUFFLE	COPY_MAP_DATA	48315666
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2012787
+SHUFFLE	COMPRESS_BYTE_COUNT	2012791
+SHUFFLE	COPY_MAP_DATA	330207000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1991005
+SHUFFLE	COMPRESS_BYTE_COUNT	1991009
+SHUFFLE	COPY_MAP_DATA	39745000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1931226
+SHUFFLE	COMPRESS_BYTE_COUNT	1931230
+SHUFFLE	COPY_MAP_DATA	213353000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2070778
+SHUFFLE	COMPRESS_BYTE_COUNT	2070782
+SHUFFLE	COPY_MAP_DATA	428566000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1933848
+SHUFFLE	COMPRESS_BYTE_COUNT	1933852
+SHUFFLE	COPY_MAP_DATA	139581000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2140401
+SHUFFLE	COMPRESS_BYTE_COUNT	2140405
+SHUFFLE	COPY_MAP_DATA	168113000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2010683
+SHUFFLE	COMPRESS_BYTE_COUNT	2010687
+SHUFFLE	COPY_MAP_DATA	58321000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2023021
+SHUFFLE	COMPRESS_BYTE_COUNT	2023025
+SHUFFLE	COPY_MAP_DATA	59098000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1983639
+SHUFFLE	COMPRESS_BYTE_COUNT	1983643
+SHUFFLE	COPY_MAP_DATA	288919000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1826616
+SHUFFLE	COMPRESS_BYTE_COUNT	1826620
+SHUFFLE	COPY_MAP_DATA	110157000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1836502
+SHUFFLE	COMPRESS_BYTE_COUNT	1836506
+SHUFFLE	COPY_MAP_DATA	134634000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2026394
+SHUFFLE	COMPRESS_BYTE_COUNT	2026398
+SHUFFLE	COPY_MAP_DATA	61240000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1991040
+SHUFFLE	COMPRESS_BYTE_COUNT	1991044
+SHUFFLE	COPY_MAP_DATA	217120000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1888731
+SHUFFLE	COMPRESS_BYTE_COUNT	1888735
+SHUFFLE	COPY_MAP_DATA	106877000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1975947
+SHUFFLE	COMPRESS_BYTE_COUNT	1975951
+SHUFFLE	COPY_MAP_DATA	24856000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2052495
+SHUFFLE	COMPRESS_BYTE_COUNT	2052499
+SHUFFLE	COPY_MAP_DATA	48523000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1904353
+SHUFFLE	COMPRESS_BYTE_COUNT	1904357
+SHUFFLE	COPY_MAP_DATA	2285478000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2037245
+SHUFFLE	COMPRESS_BYTE_COUNT	2037249
+SHUFFLE	COPY_MAP_DATA	152732000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1966938
+SHUFFLE	COMPRESS_BYTE_COUNT	1966942
+SHUFFLE	COPY_MAP_DATA	6221898000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1953236
+SHUFFLE	COMPRESS_BYTE_COUNT	1953240
+SHUFFLE	COPY_MAP_DATA	1471656000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1931517
+SHUFFLE	COMPRESS_BYTE_COUNT	1931521
+SHUFFLE	COPY_MAP_DATA	3241652515
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2016973
+SHUFFLE	COMPRESS_BYTE_COUNT	2016977
+SHUFFLE	COPY_MAP_DATA	161453000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1781853
+SHUFFLE	COMPRESS_BYTE_COUNT	1781857
+SHUFFLE	COPY_MAP_DATA	222890000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1811185
+SHUFFLE	COMPRESS_BYTE_COUNT	1811189
+SHUFFLE	COPY_MAP_DATA	45325000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1740231
+SHUFFLE	COMPRESS_BYTE_COUNT	1740235
+SHUFFLE	COPY_MAP_DATA	142937000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1958239
+SHUFFLE	COMPRESS_BYTE_COUNT	1958243
+SHUFFLE	COPY_MAP_DATA	39298000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1872842
+SHUFFLE	COMPRESS_BYTE_COUNT	1872846
+SHUFFLE	COPY_MAP_DATA	444076000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1906228
+SHUFFLE	COMPRESS_BYTE_COUNT	1906232
+SHUFFLE	COPY_MAP_DATA	415463000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1822077
+SHUFFLE	COMPRESS_BYTE_COUNT	1822081
+SHUFFLE	COPY_MAP_DATA	108687000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1709564
+SHUFFLE	COMPRESS_BYTE_COUNT	1709568
+SHUFFLE	COPY_MAP_DATA	159388000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1883971
+SHUFFLE	COMPRESS_BYTE_COUNT	1883975
+SHUFFLE	COPY_MAP_DATA	42083000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1949178
+SHUFFLE	COMPRESS_BYTE_COUNT	1949182
+SHUFFLE	COPY_MAP_DATA	59741000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1635191
+SHUFFLE	COMPRESS_BYTE_COUNT	1635195
+SHUFFLE	COPY_MAP_DATA	151207000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1934170
+SHUFFLE	COMPRESS_BYTE_COUNT	1934174
+SHUFFLE	COPY_MAP_DATA	1415394000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1938046
+SHUFFLE	COMPRESS_BYTE_COUNT	1938050
+SHUFFLE	COPY_MAP_DATA	176231000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1753413
+SHUFFLE	COMPRESS_BYTE_COUNT	1753417
+SHUFFLE	COPY_MAP_DATA	57174000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1766503
+SHUFFLE	COMPRESS_BYTE_COUNT	1766507
+SHUFFLE	COPY_MAP_DATA	48135000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1840184
+SHUFFLE	COMPRESS_BYTE_COUNT	1840188
+SHUFFLE	COPY_MAP_DATA	1017843000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1643073
+SHUFFLE	COMPRESS_BYTE_COUNT	1643077
+SHUFFLE	COPY_MAP_DATA	24851000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1670907
+SHUFFLE	COMPRESS_BYTE_COUNT	1670911
+SHUFFLE	COPY_MAP_DATA	69717000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1763165
+SHUFFLE	COMPRESS_BYTE_COUNT	1763169
+SHUFFLE	COPY_MAP_DATA	88044000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1755467
+SHUFFLE	COMPRESS_BYTE_COUNT	1755471
+SHUFFLE	COPY_MAP_DATA	3912985000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1621737
+SHUFFLE	COMPRESS_BYTE_COUNT	1621741
+SHUFFLE	COPY_MAP_DATA	30644000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1846104
+SHUFFLE	COMPRESS_BYTE_COUNT	1846108
+SHUFFLE	COPY_MAP_DATA	396204000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1988620
+SHUFFLE	COMPRESS_BYTE_COUNT	1988624
+SHUFFLE	COPY_MAP_DATA	196896000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1822022
+SHUFFLE	COMPRESS_BYTE_COUNT	1822026
+SHUFFLE	COPY_MAP_DATA	1722467000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1878363
+SHUFFLE	COMPRESS_BYTE_COUNT	1878367
+SHUFFLE	COPY_MAP_DATA	198872000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1755847
+SHUFFLE	COMPRESS_BYTE_COUNT	1755851
+SHUFFLE	COPY_MAP_DATA	107508000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1528070
+SHUFFLE	COMPRESS_BYTE_COUNT	1528074
+SHUFFLE	COPY_MAP_DATA	1600532666
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1571798
+SHUFFLE	COMPRESS_BYTE_COUNT	1571802
+SHUFFLE	COPY_MAP_DATA	141334000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2046386
+SHUFFLE	COMPRESS_BYTE_COUNT	2046390
+SHUFFLE	COPY_MAP_DATA	40902000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1855425
+SHUFFLE	COMPRESS_BYTE_COUNT	1855429
+SHUFFLE	COPY_MAP_DATA	286019000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1564938
+SHUFFLE	COMPRESS_BYTE_COUNT	1564942
+SHUFFLE	COPY_MAP_DATA	138454000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1538774
+SHUFFLE	COMPRESS_BYTE_COUNT	1538778
+SHUFFLE	COPY_MAP_DATA	128315000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1901833
+SHUFFLE	COMPRESS_BYTE_COUNT	1901837
+SHUFFLE	COPY_MAP_DATA	177940000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1685546
+SHUFFLE	COMPRESS_BYTE_COUNT	1685550
+SHUFFLE	COPY_MAP_DATA	495628000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1661945
+SHUFFLE	COMPRESS_BYTE_COUNT	1661949
+SHUFFLE	COPY_MAP_DATA	69581000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1887957
+SHUFFLE	COMPRESS_BYTE_COUNT	1887961
+SHUFFLE	COPY_MAP_DATA	251035000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1976670
+SHUFFLE	COMPRESS_BYTE_COUNT	1976674
+SHUFFLE	COPY_MAP_DATA	456245000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1544408
+SHUFFLE	COMPRESS_BYTE_COUNT	1544412
+SHUFFLE	COPY_MAP_DATA	745614000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1597262
+SHUFFLE	COMPRESS_BYTE_COUNT	1597266
+SHUFFLE	COPY_MAP_DATA	91874000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1820170
+SHUFFLE	COMPRESS_BYTE_COUNT	1820174
+SHUFFLE	COPY_MAP_DATA	81058000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1627983
+SHUFFLE	COMPRESS_BYTE_COUNT	1627987
+SHUFFLE	COPY_MAP_DATA	9239340000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1559891
+SHUFFLE	COMPRESS_BYTE_COUNT	1559895
+SHUFFLE	COPY_MAP_DATA	31742000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1459066
+SHUFFLE	COMPRESS_BYTE_COUNT	1459070
+SHUFFLE	COPY_MAP_DATA	2321687000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2231942
+SHUFFLE	COMPRESS_BYTE_COUNT	2231946
+SHUFFLE	COPY_MAP_DATA	79963000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1676632
+SHUFFLE	COMPRESS_BYTE_COUNT	1676636
+SHUFFLE	COPY_MAP_DATA	32654000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1781029
+SHUFFLE	COMPRESS_BYTE_COUNT	1781033
+SHUFFLE	COPY_MAP_DATA	819628000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1738485
+SHUFFLE	COMPRESS_BYTE_COUNT	1738489
+SHUFFLE	COPY_MAP_DATA	66368000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1960786
+SHUFFLE	COMPRESS_BYTE_COUNT	1960790
+SHUFFLE	COPY_MAP_DATA	1957055000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1510277
+SHUFFLE	COMPRESS_BYTE_COUNT	1510281
+SHUFFLE	COPY_MAP_DATA	33856000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1658959
+SHUFFLE	COMPRESS_BYTE_COUNT	1658963
+SHUFFLE	COPY_MAP_DATA	203264000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1757635
+SHUFFLE	COMPRESS_BYTE_COUNT	1757639
+SHUFFLE	COPY_MAP_DATA	24603000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1533497
+SHUFFLE	COMPRESS_BYTE_COUNT	1533501
+SHUFFLE	COPY_MAP_DATA	23670000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1674238
+SHUFFLE	COMPRESS_BYTE_COUNT	1674242
+SHUFFLE	COPY_MAP_DATA	254503000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1612296
+SHUFFLE	COMPRESS_BYTE_COUNT	1612300
+SHUFFLE	COPY_MAP_DATA	47299000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1767505
+SHUFFLE	COMPRESS_BYTE_COUNT	1767509
+SHUFFLE	COPY_MAP_DATA	505491000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	808892
+SHUFFLE	COMPRESS_BYTE_COUNT	808896
+SHUFFLE	COPY_MAP_DATA	230712000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1537810
+SHUFFLE	COMPRESS_BYTE_COUNT	1537814
+SHUFFLE	COPY_MAP_DATA	28076000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	925401
+SHUFFLE	COMPRESS_BYTE_COUNT	925405
+SHUFFLE	COPY_MAP_DATA	19510000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	869353
+SHUFFLE	COMPRESS_BYTE_COUNT	869357
+SHUFFLE	COPY_MAP_DATA	76125000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1568767
+SHUFFLE	COMPRESS_BYTE_COUNT	1568771
+SHUFFLE	COPY_MAP_DATA	22715000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	991621
+SHUFFLE	COMPRESS_BYTE_COUNT	991625
+SHUFFLE	COPY_MAP_DATA	20880000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1745413
+SHUFFLE	COMPRESS_BYTE_COUNT	1745417
+SHUFFLE	COPY_MAP_DATA	54995000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1417052
+SHUFFLE	COMPRESS_BYTE_COUNT	1417056
+SHUFFLE	COPY_MAP_DATA	17376000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	869929
+SHUFFLE	COMPRESS_BYTE_COUNT	869933
+SHUFFLE	COPY_MAP_DATA	110568000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1566910
+SHUFFLE	COMPRESS_BYTE_COUNT	1566914
+SHUFFLE	COPY_MAP_DATA	60482000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1478446
+SHUFFLE	COMPRESS_BYTE_COUNT	1478450
+SHUFFLE	COPY_MAP_DATA	90462000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1027115
+SHUFFLE	COMPRESS_BYTE_COUNT	1027119
+SHUFFLE	COPY_MAP_DATA	90161000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	999329
+SHUFFLE	COMPRESS_BYTE_COUNT	999333
+SHUFFLE	COPY_MAP_DATA	27487000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1708957
+SHUFFLE	COMPRESS_BYTE_COUNT	1708961
+SHUFFLE	COPY_MAP_DATA	40290000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1684787
+SHUFFLE	COMPRESS_BYTE_COUNT	1684791
+SHUFFLE	COPY_MAP_DATA	38199000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1871445
+SHUFFLE	COMPRESS_BYTE_COUNT	1871449
+SHUFFLE	COPY_MAP_DATA	295926000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2234100
+SHUFFLE	COMPRESS_BYTE_COUNT	2234104
+SHUFFLE	COPY_MAP_DATA	279556000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2138518
+SHUFFLE	COMPRESS_BYTE_COUNT	2138522
+SHUFFLE	COPY_MAP_DATA	32207000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1068838
+SHUFFLE	COMPRESS_BYTE_COUNT	1068842
+SHUFFLE	COPY_MAP_DATA	91196000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1056801
+SHUFFLE	COMPRESS_BYTE_COUNT	1056805
+SHUFFLE	COPY_MAP_DATA	82589000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1645909
+SHUFFLE	COMPRESS_BYTE_COUNT	1645913
+SHUFFLE	COPY_MAP_DATA	132554000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	966222
+SHUFFLE	COMPRESS_BYTE_COUNT	966226
+SHUFFLE	COPY_MAP_DATA	12200000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1624071
+SHUFFLE	COMPRESS_BYTE_COUNT	1624075
+SHUFFLE	COPY_MAP_DATA	47250000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1626391
+SHUFFLE	COMPRESS_BYTE_COUNT	1626395
+SHUFFLE	COPY_MAP_DATA	294037000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	949652
+SHUFFLE	COMPRESS_BYTE_COUNT	949656
+SHUFFLE	COPY_MAP_DATA	140107000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	968434
+SHUFFLE	COMPRESS_BYTE_COUNT	968438
+SHUFFLE	COPY_MAP_DATA	445294000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1903304
+SHUFFLE	COMPRESS_BYTE_COUNT	1903308
+SHUFFLE	COPY_MAP_DATA	70005000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1071451
+SHUFFLE	COMPRESS_BYTE_COUNT	1071455
+SHUFFLE	COPY_MAP_DATA	100396000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1298734
+SHUFFLE	COMPRESS_BYTE_COUNT	1298738
+SHUFFLE	COPY_MAP_DATA	69137000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1669920
+SHUFFLE	COMPRESS_BYTE_COUNT	1669924
+SHUFFLE	COPY_MAP_DATA	1975364000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1744008
+SHUFFLE	COMPRESS_BYTE_COUNT	1744012
+SHUFFLE	COPY_MAP_DATA	1279620000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	959440
+SHUFFLE	COMPRESS_BYTE_COUNT	959444
+SHUFFLE	COPY_MAP_DATA	199905000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	984021
+SHUFFLE	COMPRESS_BYTE_COUNT	984025
+SHUFFLE	COPY_MAP_DATA	23995000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	980341
+SHUFFLE	COMPRESS_BYTE_COUNT	980345
+SHUFFLE	COPY_MAP_DATA	339392000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1025860
+SHUFFLE	COMPRESS_BYTE_COUNT	1025864
+SHUFFLE	COPY_MAP_DATA	361289000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1046055
+SHUFFLE	COMPRESS_BYTE_COUNT	1046059
+SHUFFLE	COPY_MAP_DATA	262494000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	990362
+SHUFFLE	COMPRESS_BYTE_COUNT	990366
+SHUFFLE	COPY_MAP_DATA	129952000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	844883
+SHUFFLE	COMPRESS_BYTE_COUNT	844887
+SHUFFLE	COPY_MAP_DATA	25772000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	972012
+SHUFFLE	COMPRESS_BYTE_COUNT	972016
+SHUFFLE	COPY_MAP_DATA	37778000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1010132
+SHUFFLE	COMPRESS_BYTE_COUNT	1010136
+SHUFFLE	COPY_MAP_DATA	23841000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	993605
+SHUFFLE	COMPRESS_BYTE_COUNT	993609
+SHUFFLE	COPY_MAP_DATA	47056000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	999490
+SHUFFLE	COMPRESS_BYTE_COUNT	999494
+SHUFFLE	COPY_MAP_DATA	30404000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	932343
+SHUFFLE	COMPRESS_BYTE_COUNT	932347
+SHUFFLE	COPY_MAP_DATA	18751000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	908296
+SHUFFLE	COMPRESS_BYTE_COUNT	908300
+SHUFFLE	COPY_MAP_DATA	2325815000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	975963
+SHUFFLE	COMPRESS_BYTE_COUNT	975967
+SHUFFLE	COPY_MAP_DATA	20022000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1000645
+SHUFFLE	COMPRESS_BYTE_COUNT	1000649
+SHUFFLE	COPY_MAP_DATA	64975000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	925950
+SHUFFLE	COMPRESS_BYTE_COUNT	925954
+SHUFFLE	COPY_MAP_DATA	49769000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1002876
+SHUFFLE	COMPRESS_BYTE_COUNT	1002880
+SHUFFLE	COPY_MAP_DATA	64891000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	993796
+SHUFFLE	COMPRESS_BYTE_COUNT	993800
+SHUFFLE	COPY_MAP_DATA	540988000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1028768
+SHUFFLE	COMPRESS_BYTE_COUNT	1028772
+SHUFFLE	COPY_MAP_DATA	50247000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1114543
+SHUFFLE	COMPRESS_BYTE_COUNT	1114547
+SHUFFLE	COPY_MAP_DATA	148538000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1008680
+SHUFFLE	COMPRESS_BYTE_COUNT	1008684
+SHUFFLE	COPY_MAP_DATA	49518000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	973335
+SHUFFLE	COMPRESS_BYTE_COUNT	973339
+SHUFFLE	COPY_MAP_DATA	15653000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1600058
+SHUFFLE	COMPRESS_BYTE_COUNT	1600062
+SHUFFLE	COPY_MAP_DATA	8664574000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	988166
+SHUFFLE	COMPRESS_BYTE_COUNT	988170
+SHUFFLE	COPY_MAP_DATA	62570000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	994731
+SHUFFLE	COMPRESS_BYTE_COUNT	994735
+SHUFFLE	COPY_MAP_DATA	523983000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	955282
+SHUFFLE	COMPRESS_BYTE_COUNT	955286
+SHUFFLE	COPY_MAP_DATA	23689000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	985742
+SHUFFLE	COMPRESS_BYTE_COUNT	985746
+SHUFFLE	COPY_MAP_DATA	581014000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	990823
+SHUFFLE	COMPRESS_BYTE_COUNT	990827
+SHUFFLE	COPY_MAP_DATA	53293000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	971867
+SHUFFLE	COMPRESS_BYTE_COUNT	971871
+SHUFFLE	COPY_MAP_DATA	25577000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1053007
+SHUFFLE	COMPRESS_BYTE_COUNT	1053011
+SHUFFLE	COPY_MAP_DATA	344906000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	953294
+SHUFFLE	COMPRESS_BYTE_COUNT	953298
+SHUFFLE	COPY_MAP_DATA	37161000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1070940
+SHUFFLE	COMPRESS_BYTE_COUNT	1070944
+SHUFFLE	COPY_MAP_DATA	70932000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	938496
+SHUFFLE	COMPRESS_BYTE_COUNT	938500
+SHUFFLE	COPY_MAP_DATA	173225000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	986089
+SHUFFLE	COMPRESS_BYTE_COUNT	986093
+SHUFFLE	COPY_MAP_DATA	20091000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1019862
+SHUFFLE	COMPRESS_BYTE_COUNT	1019866
+SHUFFLE	COPY_MAP_DATA	47560000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	939887
+SHUFFLE	COMPRESS_BYTE_COUNT	939891
+SHUFFLE	COPY_MAP_DATA	510386000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	961125
+SHUFFLE	COMPRESS_BYTE_COUNT	961129
+SHUFFLE	COPY_MAP_DATA	265349000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	985575
+SHUFFLE	COMPRESS_BYTE_COUNT	985579
+SHUFFLE	COPY_MAP_DATA	146662000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	980556
+SHUFFLE	COMPRESS_BYTE_COUNT	980560
+SHUFFLE	COPY_MAP_DATA	25706000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	985971
+SHUFFLE	COMPRESS_BYTE_COUNT	985975
+SHUFFLE	COPY_MAP_DATA	658113000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	972667
+SHUFFLE	COMPRESS_BYTE_COUNT	972671
+SHUFFLE	COPY_MAP_DATA	1729871000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	972060
+SHUFFLE	COMPRESS_BYTE_COUNT	972064
+SHUFFLE	COPY_MAP_DATA	44854000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1031400
+SHUFFLE	COMPRESS_BYTE_COUNT	1031404
+SHUFFLE	COPY_MAP_DATA	455417000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	962783
+SHUFFLE	COMPRESS_BYTE_COUNT	962787
+SHUFFLE	COPY_MAP_DATA	25624000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	972335
+SHUFFLE	COMPRESS_BYTE_COUNT	972339
+SHUFFLE	COPY_MAP_DATA	34387000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	977120
+SHUFFLE	COMPRESS_BYTE_COUNT	977124
+SHUFFLE	COPY_MAP_DATA	139152000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	985574
+SHUFFLE	COMPRESS_BYTE_COUNT	985578
+SHUFFLE	COPY_MAP_DATA	17645000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1083719
+SHUFFLE	COMPRESS_BYTE_COUNT	1083723
+SHUFFLE	COPY_MAP_DATA	11264000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	991632
+SHUFFLE	COMPRESS_BYTE_COUNT	991636
+SHUFFLE	COPY_MAP_DATA	13504000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	923580
+SHUFFLE	COMPRESS_BYTE_COUNT	923584
+SHUFFLE	COPY_MAP_DATA	32160000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	945486
+SHUFFLE	COMPRESS_BYTE_COUNT	945490
+SHUFFLE	COPY_MAP_DATA	21501000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	952404
+SHUFFLE	COMPRESS_BYTE_COUNT	952408
+SHUFFLE	COPY_MAP_DATA	21626000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	909280
+SHUFFLE	COMPRESS_BYTE_COUNT	909284
+SHUFFLE	COPY_MAP_DATA	140362000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1005005
+SHUFFLE	COMPRESS_BYTE_COUNT	1005009
+SHUFFLE	COPY_MAP_DATA	116058000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	951057
+SHUFFLE	COMPRESS_BYTE_COUNT	951061
+SHUFFLE	COPY_MAP_DATA	22015000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	960023
+SHUFFLE	COMPRESS_BYTE_COUNT	960027
+SHUFFLE	COPY_MAP_DATA	19891000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	948233
+SHUFFLE	COMPRESS_BYTE_COUNT	948237
+SHUFFLE	COPY_MAP_DATA	350199000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1029649
+SHUFFLE	COMPRESS_BYTE_COUNT	1029653
+SHUFFLE	COPY_MAP_DATA	52802000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	953992
+SHUFFLE	COMPRESS_BYTE_COUNT	953996
+SHUFFLE	COPY_MAP_DATA	94590000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	973047
+SHUFFLE	COMPRESS_BYTE_COUNT	973051
+SHUFFLE	COPY_MAP_DATA	95095000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	953826
+SHUFFLE	COMPRESS_BYTE_COUNT	953830
+SHUFFLE	COPY_MAP_DATA	91432000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	895903
+SHUFFLE	COMPRESS_BYTE_COUNT	895907
+SHUFFLE	COPY_MAP_DATA	11309000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	930715
+SHUFFLE	COMPRESS_BYTE_COUNT	930719
+SHUFFLE	COPY_MAP_DATA	117368000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	981218
+SHUFFLE	COMPRESS_BYTE_COUNT	981222
+SHUFFLE	COPY_MAP_DATA	224477000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	961501
+SHUFFLE	COMPRESS_BYTE_COUNT	961505
+SHUFFLE	COPY_MAP_DATA	189820000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	921820
+SHUFFLE	COMPRESS_BYTE_COUNT	921824
+SHUFFLE	COPY_MAP_DATA	21426000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	978839
+SHUFFLE	COMPRESS_BYTE_COUNT	978843
+SHUFFLE	COPY_MAP_DATA	150462000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	908837
+SHUFFLE	COMPRESS_BYTE_COUNT	908841
+SHUFFLE	COPY_MAP_DATA	64471000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	955778
+SHUFFLE	COMPRESS_BYTE_COUNT	955782
+SHUFFLE	COPY_MAP_DATA	654203000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	916864
+SHUFFLE	COMPRESS_BYTE_COUNT	916868
+SHUFFLE	COPY_MAP_DATA	23556000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	899483
+SHUFFLE	COMPRESS_BYTE_COUNT	899487
+SHUFFLE	COPY_MAP_DATA	116527000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	947550
+SHUFFLE	COMPRESS_BYTE_COUNT	947554
+SHUFFLE	COPY_MAP_DATA	22387000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	898499
+SHUFFLE	COMPRESS_BYTE_COUNT	898503
+SHUFFLE	COPY_MAP_DATA	32243000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	896130
+SHUFFLE	COMPRESS_BYTE_COUNT	896134
+SHUFFLE	COPY_MAP_DATA	11225000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	900016
+SHUFFLE	COMPRESS_BYTE_COUNT	900020
+SHUFFLE	COPY_MAP_DATA	21342000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	871406
+SHUFFLE	COMPRESS_BYTE_COUNT	871410
+SHUFFLE	COPY_MAP_DATA	162924000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	928195
+SHUFFLE	COMPRESS_BYTE_COUNT	928199
+SHUFFLE	COPY_MAP_DATA	18178000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	918366
+SHUFFLE	COMPRESS_BYTE_COUNT	918370
+SHUFFLE	COPY_MAP_DATA	19026000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	915669
+SHUFFLE	COMPRESS_BYTE_COUNT	915673
+SHUFFLE	COPY_MAP_DATA	29804000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	945703
+SHUFFLE	COMPRESS_BYTE_COUNT	945707
+SHUFFLE	COPY_MAP_DATA	130195000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	878114
+SHUFFLE	COMPRESS_BYTE_COUNT	878118
+SHUFFLE	COPY_MAP_DATA	61644000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	933073
+SHUFFLE	COMPRESS_BYTE_COUNT	933077
+SHUFFLE	COPY_MAP_DATA	81677000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	906771
+SHUFFLE	COMPRESS_BYTE_COUNT	906775
+SHUFFLE	COPY_MAP_DATA	629354000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	870065
+SHUFFLE	COMPRESS_BYTE_COUNT	870069
+SHUFFLE	COPY_MAP_DATA	63469000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	956478
+SHUFFLE	COMPRESS_BYTE_COUNT	956482
+SHUFFLE	COPY_MAP_DATA	2427501000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	924680
+SHUFFLE	COMPRESS_BYTE_COUNT	924684
+SHUFFLE	COPY_MAP_DATA	617621000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	894005
+SHUFFLE	COMPRESS_BYTE_COUNT	894009
+SHUFFLE	COPY_MAP_DATA	58780000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	908655
+SHUFFLE	COMPRESS_BYTE_COUNT	908659
+SHUFFLE	COPY_MAP_DATA	689113000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	893102
+SHUFFLE	COMPRESS_BYTE_COUNT	893106
+SHUFFLE	COPY_MAP_DATA	27263000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	795987
+SHUFFLE	COMPRESS_BYTE_COUNT	795991
+SHUFFLE	COPY_MAP_DATA	43148000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	900403
+SHUFFLE	COMPRESS_BYTE_COUNT	900407
+SHUFFLE	COPY_MAP_DATA	28840000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	856366
+SHUFFLE	COMPRESS_BYTE_COUNT	856370
+SHUFFLE	COPY_MAP_DATA	56078000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	833462
+SHUFFLE	COMPRESS_BYTE_COUNT	833466
+SHUFFLE	COPY_MAP_DATA	285653000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	835139
+SHUFFLE	COMPRESS_BYTE_COUNT	835143
+SHUFFLE	COPY_MAP_DATA	157155000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	906355
+SHUFFLE	COMPRESS_BYTE_COUNT	906359
+SHUFFLE	COPY_MAP_DATA	100089000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	825155
+SHUFFLE	COMPRESS_BYTE_COUNT	825159
+SHUFFLE	COPY_MAP_DATA	35913000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	949413
+SHUFFLE	COMPRESS_BYTE_COUNT	949417
+SHUFFLE	COPY_MAP_DATA	31074000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	839808
+SHUFFLE	COMPRESS_BYTE_COUNT	839812
+SHUFFLE	COPY_MAP_DATA	48653000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	873018
+SHUFFLE	COMPRESS_BYTE_COUNT	873022
+SHUFFLE	COPY_MAP_DATA	100445000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	797991
+SHUFFLE	COMPRESS_BYTE_COUNT	797995
+SHUFFLE	COPY_MAP_DATA	67452000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	857285
+SHUFFLE	COMPRESS_BYTE_COUNT	857289
+SHUFFLE	COPY_MAP_DATA	16508000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	808319
+SHUFFLE	COMPRESS_BYTE_COUNT	808323
+SHUFFLE	COPY_MAP_DATA	17962000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1041072
+SHUFFLE	COMPRESS_BYTE_COUNT	1041076
+SHUFFLE	COPY_MAP_DATA	708648000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	870677
+SHUFFLE	COMPRESS_BYTE_COUNT	870681
+SHUFFLE	COPY_MAP_DATA	10139000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	780090
+SHUFFLE	COMPRESS_BYTE_COUNT	780094
+SHUFFLE	COPY_MAP_DATA	463173000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	796903
+SHUFFLE	COMPRESS_BYTE_COUNT	796907
+SHUFFLE	COPY_MAP_DATA	207624000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	834992
+SHUFFLE	COMPRESS_BYTE_COUNT	834996
+SHUFFLE	COPY_MAP_DATA	174569000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	858056
+SHUFFLE	COMPRESS_BYTE_COUNT	858060
+SHUFFLE	COPY_MAP_DATA	48012000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	788548
+SHUFFLE	COMPRESS_BYTE_COUNT	788552
+SHUFFLE	COPY_MAP_DATA	18750000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	842572
+SHUFFLE	COMPRESS_BYTE_COUNT	842576
+SHUFFLE	COPY_MAP_DATA	14593000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	819375
+SHUFFLE	COMPRESS_BYTE_COUNT	819379
+SHUFFLE	COPY_MAP_DATA	28079000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1016553
+SHUFFLE	COMPRESS_BYTE_COUNT	1016557
+SHUFFLE	COPY_MAP_DATA	108549000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	854526
+SHUFFLE	COMPRESS_BYTE_COUNT	854530
+SHUFFLE	COPY_MAP_DATA	6143588000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	838803
+SHUFFLE	COMPRESS_BYTE_COUNT	838807
+SHUFFLE	COPY_MAP_DATA	20784000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	855234
+SHUFFLE	COMPRESS_BYTE_COUNT	855238
+SHUFFLE	COPY_MAP_DATA	134183000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	857850
+SHUFFLE	COMPRESS_BYTE_COUNT	857854
+SHUFFLE	COPY_MAP_DATA	22374000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	981570
+SHUFFLE	COMPRESS_BYTE_COUNT	981574
+SHUFFLE	COPY_MAP_DATA	63338000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	807668
+SHUFFLE	COMPRESS_BYTE_COUNT	807672
+SHUFFLE	COPY_MAP_DATA	21345000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	827604
+SHUFFLE	COMPRESS_BYTE_COUNT	827608
+SHUFFLE	COPY_MAP_DATA	26076000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	835917
+SHUFFLE	COMPRESS_BYTE_COUNT	835921
+SHUFFLE	COPY_MAP_DATA	67677000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	839206
+SHUFFLE	COMPRESS_BYTE_COUNT	839210
+SHUFFLE	COPY_MAP_DATA	134535000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	782936
+SHUFFLE	COMPRESS_BYTE_COUNT	782940
+SHUFFLE	COPY_MAP_DATA	32701000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	841213
+SHUFFLE	COMPRESS_BYTE_COUNT	841217
+SHUFFLE	COPY_MAP_DATA	44700000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	881491
+SHUFFLE	COMPRESS_BYTE_COUNT	881495
+SHUFFLE	COPY_MAP_DATA	21494000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	865882
+SHUFFLE	COMPRESS_BYTE_COUNT	865886
+SHUFFLE	COPY_MAP_DATA	168885000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	925797
+SHUFFLE	COMPRESS_BYTE_COUNT	925801
+SHUFFLE	COPY_MAP_DATA	18881000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	795805
+SHUFFLE	COMPRESS_BYTE_COUNT	795809
+SHUFFLE	COPY_MAP_DATA	47389000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	865573
+SHUFFLE	COMPRESS_BYTE_COUNT	865577
+SHUFFLE	COPY_MAP_DATA	103989000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	810660
+SHUFFLE	COMPRESS_BYTE_COUNT	810664
+SHUFFLE	COPY_MAP_DATA	8314000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	765397
+SHUFFLE	COMPRESS_BYTE_COUNT	765401
+SHUFFLE	COPY_MAP_DATA	139563000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	995498
+SHUFFLE	COMPRESS_BYTE_COUNT	995502
+SHUFFLE	COPY_MAP_DATA	3241825000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	880829
+SHUFFLE	COMPRESS_BYTE_COUNT	880833
+SHUFFLE	COPY_MAP_DATA	521815000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	757308
+SHUFFLE	COMPRESS_BYTE_COUNT	757312
+SHUFFLE	COPY_MAP_DATA	99710000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	832415
+SHUFFLE	COMPRESS_BYTE_COUNT	832419
+SHUFFLE	COPY_MAP_DATA	227771000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	813425
+SHUFFLE	COMPRESS_BYTE_COUNT	813429
+SHUFFLE	COPY_MAP_DATA	53695000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	966321
+SHUFFLE	COMPRESS_BYTE_COUNT	966325
+SHUFFLE	COPY_MAP_DATA	19087000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	754480
+SHUFFLE	COMPRESS_BYTE_COUNT	754484
+SHUFFLE	COPY_MAP_DATA	10429000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	784886
+SHUFFLE	COMPRESS_BYTE_COUNT	784890
+SHUFFLE	COPY_MAP_DATA	178406000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	808318
+SHUFFLE	COMPRESS_BYTE_COUNT	808322
+SHUFFLE	COPY_MAP_DATA	91340000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	809310
+SHUFFLE	COMPRESS_BYTE_COUNT	809314
+SHUFFLE	COPY_MAP_DATA	17707000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1188332
+SHUFFLE	COMPRESS_BYTE_COUNT	1188336
+SHUFFLE	COPY_MAP_DATA	1487394000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	806403
+SHUFFLE	COMPRESS_BYTE_COUNT	806407
+SHUFFLE	COPY_MAP_DATA	28248000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	876146
+SHUFFLE	COMPRESS_BYTE_COUNT	876150
+SHUFFLE	COPY_MAP_DATA	24842000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1095215
+SHUFFLE	COMPRESS_BYTE_COUNT	1095219
+SHUFFLE	COPY_MAP_DATA	20759000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1022181
+SHUFFLE	COMPRESS_BYTE_COUNT	1022185
+SHUFFLE	COPY_MAP_DATA	144309000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1010351
+SHUFFLE	COMPRESS_BYTE_COUNT	1010355
+SHUFFLE	COPY_MAP_DATA	23843000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	854314
+SHUFFLE	COMPRESS_BYTE_COUNT	854318
+SHUFFLE	COPY_MAP_DATA	21080000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	758620
+SHUFFLE	COMPRESS_BYTE_COUNT	758624
+SHUFFLE	COPY_MAP_DATA	16568000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	747250
+SHUFFLE	COMPRESS_BYTE_COUNT	747254
+SHUFFLE	COPY_MAP_DATA	959213000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	765672
+SHUFFLE	COMPRESS_BYTE_COUNT	765676
+SHUFFLE	COPY_MAP_DATA	141254000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	747860
+SHUFFLE	COMPRESS_BYTE_COUNT	747864
+SHUFFLE	COPY_MAP_DATA	184863000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	751515
+SHUFFLE	COMPRESS_BYTE_COUNT	751519
+SHUFFLE	COPY_MAP_DATA	30014000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	762419
+SHUFFLE	COMPRESS_BYTE_COUNT	762423
+SHUFFLE	COPY_MAP_DATA	30343000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	753031
+SHUFFLE	COMPRESS_BYTE_COUNT	753035
+SHUFFLE	COPY_MAP_DATA	21363000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1047309
+SHUFFLE	COMPRESS_BYTE_COUNT	1047313
+SHUFFLE	COPY_MAP_DATA	41063000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	785875
+SHUFFLE	COMPRESS_BYTE_COUNT	785879
+SHUFFLE	COPY_MAP_DATA	777496000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	829263
+SHUFFLE	COMPRESS_BYTE_COUNT	829267
+SHUFFLE	COPY_MAP_DATA	181782000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	859929
+SHUFFLE	COMPRESS_BYTE_COUNT	859933
+SHUFFLE	COPY_MAP_DATA	53876000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	952704
+SHUFFLE	COMPRESS_BYTE_COUNT	952708
+SHUFFLE	COPY_MAP_DATA	2872257000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	720404
+SHUFFLE	COMPRESS_BYTE_COUNT	720408
+SHUFFLE	COPY_MAP_DATA	125098000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	776189
+SHUFFLE	COMPRESS_BYTE_COUNT	776193
+SHUFFLE	COPY_MAP_DATA	44738000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	756051
+SHUFFLE	COMPRESS_BYTE_COUNT	756055
+SHUFFLE	COPY_MAP_DATA	37995000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	873086
+SHUFFLE	COMPRESS_BYTE_COUNT	873090
+SHUFFLE	COPY_MAP_DATA	236682000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	768221
+SHUFFLE	COMPRESS_BYTE_COUNT	768225
+SHUFFLE	COPY_MAP_DATA	262190000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	955205
+SHUFFLE	COMPRESS_BYTE_COUNT	955209
+SHUFFLE	COPY_MAP_DATA	41357000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	828164
+SHUFFLE	COMPRESS_BYTE_COUNT	828168
+SHUFFLE	COPY_MAP_DATA	93963000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	750228
+SHUFFLE	COMPRESS_BYTE_COUNT	750232
+SHUFFLE	COPY_MAP_DATA	8549000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	704588
+SHUFFLE	COMPRESS_BYTE_COUNT	704592
+SHUFFLE	COPY_MAP_DATA	23217000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	751575
+SHUFFLE	COMPRESS_BYTE_COUNT	751579
+SHUFFLE	COPY_MAP_DATA	10478000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	732104
+SHUFFLE	COMPRESS_BYTE_COUNT	732108
+SHUFFLE	COPY_MAP_DATA	117090000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1074043
+SHUFFLE	COMPRESS_BYTE_COUNT	1074047
+SHUFFLE	COPY_MAP_DATA	362921000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	843077
+SHUFFLE	COMPRESS_BYTE_COUNT	843081
+SHUFFLE	COPY_MAP_DATA	62693000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	804118
+SHUFFLE	COMPRESS_BYTE_COUNT	804122
+SHUFFLE	COPY_MAP_DATA	4862413666
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1103482
+SHUFFLE	COMPRESS_BYTE_COUNT	1103486
+SHUFFLE	COPY_MAP_DATA	19348000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	985456
+SHUFFLE	COMPRESS_BYTE_COUNT	985460
+SHUFFLE	COPY_MAP_DATA	22504000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	651382
+SHUFFLE	COMPRESS_BYTE_COUNT	651386
+SHUFFLE	COPY_MAP_DATA	15524000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	841646
+SHUFFLE	COMPRESS_BYTE_COUNT	841650
+SHUFFLE	COPY_MAP_DATA	1374568000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1406789
+SHUFFLE	COMPRESS_BYTE_COUNT	1406793
+SHUFFLE	COPY_MAP_DATA	70081000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	732104
+SHUFFLE	COMPRESS_BYTE_COUNT	732108
+SHUFFLE	COPY_MAP_DATA	53471000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	787398
+SHUFFLE	COMPRESS_BYTE_COUNT	787402
+SHUFFLE	COPY_MAP_DATA	20425000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	807288
+SHUFFLE	COMPRESS_BYTE_COUNT	807292
+SHUFFLE	COPY_MAP_DATA	232760000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	821519
+SHUFFLE	COMPRESS_BYTE_COUNT	821523
+SHUFFLE	COPY_MAP_DATA	183157000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	839938
+SHUFFLE	COMPRESS_BYTE_COUNT	839942
+SHUFFLE	COPY_MAP_DATA	1762837000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	671750
+SHUFFLE	COMPRESS_BYTE_COUNT	671754
+SHUFFLE	COPY_MAP_DATA	17114000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	784459
+SHUFFLE	COMPRESS_BYTE_COUNT	784463
+SHUFFLE	COPY_MAP_DATA	642999000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	786455
+SHUFFLE	COMPRESS_BYTE_COUNT	786459
+SHUFFLE	COPY_MAP_DATA	15002000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	918743
+SHUFFLE	COMPRESS_BYTE_COUNT	918747
+SHUFFLE	COPY_MAP_DATA	35493000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	865804
+SHUFFLE	COMPRESS_BYTE_COUNT	865808
+SHUFFLE	COPY_MAP_DATA	76809000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	784694
+SHUFFLE	COMPRESS_BYTE_COUNT	784698
+SHUFFLE	COPY_MAP_DATA	16926000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	740909
+SHUFFLE	COMPRESS_BYTE_COUNT	740913
+SHUFFLE	COPY_MAP_DATA	15786000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	846076
+SHUFFLE	COMPRESS_BYTE_COUNT	846080
+SHUFFLE	COPY_MAP_DATA	20881000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1035038
+SHUFFLE	COMPRESS_BYTE_COUNT	1035042
+SHUFFLE	COPY_MAP_DATA	15146000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	757602
+SHUFFLE	COMPRESS_BYTE_COUNT	757606
+SHUFFLE	COPY_MAP_DATA	178491000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	788950
+SHUFFLE	COMPRESS_BYTE_COUNT	788954
+SHUFFLE	COPY_MAP_DATA	17132000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1278897
+SHUFFLE	COMPRESS_BYTE_COUNT	1278901
+SHUFFLE	COPY_MAP_DATA	20977000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	811110
+SHUFFLE	COMPRESS_BYTE_COUNT	811114
+SHUFFLE	COPY_MAP_DATA	41934000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	959551
+SHUFFLE	COMPRESS_BYTE_COUNT	959555
+SHUFFLE	COPY_MAP_DATA	23089000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	850409
+SHUFFLE	COMPRESS_BYTE_COUNT	850413
+SHUFFLE	COPY_MAP_DATA	1008391000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	691050
+SHUFFLE	COMPRESS_BYTE_COUNT	691054
+SHUFFLE	COPY_MAP_DATA	30836000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	938127
+SHUFFLE	COMPRESS_BYTE_COUNT	938131
+SHUFFLE	COPY_MAP_DATA	17130000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	774879
+SHUFFLE	COMPRESS_BYTE_COUNT	774883
+SHUFFLE	COPY_MAP_DATA	534367000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	782427
+SHUFFLE	COMPRESS_BYTE_COUNT	782431
+SHUFFLE	COPY_MAP_DATA	7475000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	518646
+SHUFFLE	COMPRESS_BYTE_COUNT	518650
+SHUFFLE	COPY_MAP_DATA	14613000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	830475
+SHUFFLE	COMPRESS_BYTE_COUNT	830479
+SHUFFLE	COPY_MAP_DATA	15106000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	959188
+SHUFFLE	COMPRESS_BYTE_COUNT	959192
+SHUFFLE	COPY_MAP_DATA	18763000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	806103
+SHUFFLE	COMPRESS_BYTE_COUNT	806107
+SHUFFLE	COPY_MAP_DATA	40348000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	148819899333
+MERGE	READ_WRITE	148384191333
+MERGE	READ_WRITE_COUNT	2
+MERGE	COMBINE	0
+MERGE	WRITE	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	18743240667
+SORT	READ_WRITE	18037034667
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	130256472
+REDUCE	SETUP	412000
+REDUCE	SETUP_MEM	130256472
+REDUCE	CLEANUP	71000
+REDUCE	CLEANUP_MEM	125273976
+REDUCE	TOTAL_RUN	168695985333
+REDUCE	READ	18157979666
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	141837555667
+REDUCE	WRITE	36518195000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	73205515
+REDUCE	VALUE_BYTE_COUNT	66116309
+REDUCE	REDUCE_MEM	125273976
+REDUCE	WRITE	52222000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	723309314998
@@ -0,0 +1,1333 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1883797
+SHUFFLE	COMPRESS_BYTE_COUNT	1883801
+SHUFFLE	COPY_MAP_DATA	1861409000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1853275
+SHUFFLE	COMPRESS_BYTE_COUNT	1853279
+SHUFFLE	COPY_MAP_DATA	29658000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1708397
+SHUFFLE	COMPRESS_BYTE_COUNT	1708401
+SHUFFLE	COPY_MAP_DATA	83105000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1925969
+SHUFFLE	COMPRESS_BYTE_COUNT	1925973
+SHUFFLE	COPY_MAP_DATA	132981000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1616109
+SHUFFLE	COMPRESS_BYTE_COUNT	1616113
+SHUFFLE	COPY_MAP_DATA	259618000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1828362
+SHUFFLE	COMPRESS_BYTE_COUNT	1828366
+SHUFFLE	COPY_MAP_DATA	27718000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1799036
+SHUFFLE	COMPRESS_BYTE_COUNT	1799040
+SHUFFLE	COPY_MAP_DATA	63851000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1861658
+SHUFFLE	COMPRESS_BYTE_COUNT	1861662
+SHUFFLE	COPY_MAP_DATA	27698000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1759165
+SHUFFLE	COMPRESS_BYTE_COUNT	1759169
+SHUFFLE	COPY_MAP_DATA	26579000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1783427
+SHUFFLE	COMPRESS_BYTE_COUNT	1783431
+SHUFFLE	COPY_MAP_DATA	18736000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1891960
+SHUFFLE	COMPRESS_BYTE_COUNT	1891964
+SHUFFLE	COPY_MAP_DATA	40314000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1888914
+SHUFFLE	COMPRESS_BYTE_COUNT	1888918
+SHUFFLE	COPY_MAP_DATA	23302000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1745755
+SHUFFLE	COMPRESS_BYTE_COUNT	1745759
+SHUFFLE	COPY_MAP_DATA	43855000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1828039
+SHUFFLE	COMPRESS_BYTE_COUNT	1828043
+SHUFFLE	COPY_MAP_DATA	30402000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1970522
+SHUFFLE	COMPRESS_BYTE_COUNT	1970526
+SHUFFLE	COPY_MAP_DATA	80671000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1947763
+SHUFFLE	COMPRESS_BYTE_COUNT	1947767
+SHUFFLE	COPY_MAP_DATA	89611000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1829027
+SHUFFLE	COMPRESS_BYTE_COUNT	1829031
+SHUFFLE	COPY_MAP_DATA	37229000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1863787
+SHUFFLE	COMPRESS_BYTE_COUNT	1863791
+SHUFFLE	COPY_MAP_DATA	83297000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1941637
+SHUFFLE	COMPRESS_BYTE_COUNT	1941641
+SHUFFLE	COPY_MAP_DATA	25426000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1919425
+SHUFFLE	COMPRESS_BYTE_COUNT	1919429
+SHUFFLE	COPY_MAP_DATA	26103000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1943464
+SHUFFLE	COMPRESS_BYTE_COUNT	1943468
+SHUFFLE	COPY_MAP_DATA	92631000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1894841
+SHUFFLE	COMPRESS_BYTE_COUNT	1894845
+SHUFFLE	COPY_MAP_DATA	86008000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1909026
+SHUFFLE	COMPRESS_BYTE_COUNT	1909030
+SHUFFLE	COPY_MAP_DATA	29016000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1871087
+SHUFFLE	COMPRESS_BYTE_COUNT	1871091
+SHUFFLE	COPY_MAP_DATA	61292000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2029453
+SHUFFLE	COMPRESS_BYTE_COUNT	2029457
+SHUFFLE	COPY_MAP_DATA	45501000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1826910
+SHUFFLE	COMPRESS_BYTE_COUNT	1826914
+SHUFFLE	COPY_MAP_DATA	19691000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1892409
+SHUFFLE	COMPRESS_BYTE_COUNT	1892413
+SHUFFLE	COPY_MAP_DATA	27542000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1809362
+SHUFFLE	COMPRESS_BYTE_COUNT	1809366
+SHUFFLE	COPY_MAP_DATA	290253000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1823253
+SHUFFLE	COMPRESS_BYTE_COUNT	1823257
+SHUFFLE	COPY_MAP_DATA	52134000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1913607
+SHUFFLE	COMPRESS_BYTE_COUNT	1913611
+SHUFFLE	COPY_MAP_DATA	162252000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1790508
+SHUFFLE	COMPRESS_BYTE_COUNT	1790512
+SHUFFLE	COPY_MAP_DATA	204433000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1899231
+SHUFFLE	COMPRESS_BYTE_COUNT	1899235
+SHUFFLE	COPY_MAP_DATA	2613103000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1741731
+SHUFFLE	COMPRESS_BYTE_COUNT	1741735
+SHUFFLE	COPY_MAP_DATA	1317427000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1673540
+SHUFFLE	COMPRESS_BYTE_COUNT	1673544
+SHUFFLE	COPY_MAP_DATA	141344000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1903901
+SHUFFLE	COMPRESS_BYTE_COUNT	1903905
+SHUFFLE	COPY_MAP_DATA	40587000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1827078
+SHUFFLE	COMPRESS_BYTE_COUNT	1827082
+SHUFFLE	COPY_MAP_DATA	3194304000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1736088
+SHUFFLE	COMPRESS_BYTE_COUNT	1736092
+SHUFFLE	COPY_MAP_DATA	125047000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1790576
+SHUFFLE	COMPRESS_BYTE_COUNT	1790580
+SHUFFLE	COPY_MAP_DATA	107649000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1745582
+SHUFFLE	COMPRESS_BYTE_COUNT	1745586
+SHUFFLE	COPY_MAP_DATA	159475000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1852894
+SHUFFLE	COMPRESS_BYTE_COUNT	1852898
+SHUFFLE	COPY_MAP_DATA	69331000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1784964
+SHUFFLE	COMPRESS_BYTE_COUNT	1784968
+SHUFFLE	COPY_MAP_DATA	15225000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1589459
+SHUFFLE	COMPRESS_BYTE_COUNT	1589463
+SHUFFLE	COPY_MAP_DATA	89270000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1779458
+SHUFFLE	COMPRESS_BYTE_COUNT	1779462
+SHUFFLE	COPY_MAP_DATA	91994000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1882118
+SHUFFLE	COMPRESS_BYTE_COUNT	1882122
+SHUFFLE	COPY_MAP_DATA	25518000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1743524
+SHUFFLE	COMPRESS_BYTE_COUNT	1743528
+SHUFFLE	COPY_MAP_DATA	27829000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1680970
+SHUFFLE	COMPRESS_BYTE_COUNT	1680974
+SHUFFLE	COPY_MAP_DATA	37329000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1809718
+SHUFFLE	COMPRESS_BYTE_COUNT	1809722
+SHUFFLE	COPY_MAP_DATA	298483000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1639675
+SHUFFLE	COMPRESS_BYTE_COUNT	1639679
+SHUFFLE	COPY_MAP_DATA	13686000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1837388
+SHUFFLE	COMPRESS_BYTE_COUNT	1837392
+SHUFFLE	COPY_MAP_DATA	63229000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1569114
+SHUFFLE	COMPRESS_BYTE_COUNT	1569118
+SHUFFLE	COPY_MAP_DATA	22473000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1515661
+SHUFFLE	COMPRESS_BYTE_COUNT	1515665
+SHUFFLE	COPY_MAP_DATA	24679000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1802494
+SHUFFLE	COMPRESS_BYTE_COUNT	1802498
+SHUFFLE	COPY_MAP_DATA	22318000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1790053
+SHUFFLE	COMPRESS_BYTE_COUNT	1790057
+SHUFFLE	COPY_MAP_DATA	341272000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1639872
+SHUFFLE	COMPRESS_BYTE_COUNT	1639876
+SHUFFLE	COPY_MAP_DATA	165420000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1604297
+SHUFFLE	COMPRESS_BYTE_COUNT	1604301
+SHUFFLE	COPY_MAP_DATA	23352000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1747272
+SHUFFLE	COMPRESS_BYTE_COUNT	1747276
+SHUFFLE	COPY_MAP_DATA	170235000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1760049
+SHUFFLE	COMPRESS_BYTE_COUNT	1760053
+SHUFFLE	COPY_MAP_DATA	139652000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1720833
+SHUFFLE	COMPRESS_BYTE_COUNT	1720837
+SHUFFLE	COPY_MAP_DATA	33600000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1867732
+SHUFFLE	COMPRESS_BYTE_COUNT	1867736
+SHUFFLE	COPY_MAP_DATA	27580000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1659181
+SHUFFLE	COMPRESS_BYTE_COUNT	1659185
+SHUFFLE	COPY_MAP_DATA	455348000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1898835
+SHUFFLE	COMPRESS_BYTE_COUNT	1898839
+SHUFFLE	COPY_MAP_DATA	26151000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1481761
+SHUFFLE	COMPRESS_BYTE_COUNT	1481765
+SHUFFLE	COPY_MAP_DATA	48283000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1629215
+SHUFFLE	COMPRESS_BYTE_COUNT	1629219
+SHUFFLE	COPY_MAP_DATA	367717000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1501283
+SHUFFLE	COMPRESS_BYTE_COUNT	1501287
+SHUFFLE	COPY_MAP_DATA	181157000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2076523
+SHUFFLE	COMPRESS_BYTE_COUNT	2076527
+SHUFFLE	COPY_MAP_DATA	947548000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1560588
+SHUFFLE	COMPRESS_BYTE_COUNT	1560592
+SHUFFLE	COPY_MAP_DATA	75818000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1525918
+SHUFFLE	COMPRESS_BYTE_COUNT	1525922
+SHUFFLE	COPY_MAP_DATA	479021000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1592221
+SHUFFLE	COMPRESS_BYTE_COUNT	1592225
+SHUFFLE	COPY_MAP_DATA	58166000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1762760
+SHUFFLE	COMPRESS_BYTE_COUNT	1762764
+SHUFFLE	COPY_MAP_DATA	52193000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1563772
+SHUFFLE	COMPRESS_BYTE_COUNT	1563776
+SHUFFLE	COPY_MAP_DATA	81110000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1508750
+SHUFFLE	COMPRESS_BYTE_COUNT	1508754
+SHUFFLE	COPY_MAP_DATA	30169000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1761605
+SHUFFLE	COMPRESS_BYTE_COUNT	1761609
+SHUFFLE	COPY_MAP_DATA	10716866648
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1533734
+SHUFFLE	COMPRESS_BYTE_COUNT	1533738
+SHUFFLE	COPY_MAP_DATA	96914000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1770576
+SHUFFLE	COMPRESS_BYTE_COUNT	1770580
+SHUFFLE	COPY_MAP_DATA	3073862000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1574113
+SHUFFLE	COMPRESS_BYTE_COUNT	1574117
+SHUFFLE	COPY_MAP_DATA	43054000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1746105
+SHUFFLE	COMPRESS_BYTE_COUNT	1746109
+SHUFFLE	COPY_MAP_DATA	72207000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1585901
+SHUFFLE	COMPRESS_BYTE_COUNT	1585905
+SHUFFLE	COPY_MAP_DATA	91691000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1425295
+SHUFFLE	COMPRESS_BYTE_COUNT	1425299
+SHUFFLE	COPY_MAP_DATA	75259000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1516030
+SHUFFLE	COMPRESS_BYTE_COUNT	1516034
+SHUFFLE	COPY_MAP_DATA	688939000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1712367
+SHUFFLE	COMPRESS_BYTE_COUNT	1712371
+SHUFFLE	COPY_MAP_DATA	24526000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1407331
+SHUFFLE	COMPRESS_BYTE_COUNT	1407335
+SHUFFLE	COPY_MAP_DATA	786210000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1586970
+SHUFFLE	COMPRESS_BYTE_COUNT	1586974
+SHUFFLE	COPY_MAP_DATA	29187000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1540081
+SHUFFLE	COMPRESS_BYTE_COUNT	1540085
+SHUFFLE	COPY_MAP_DATA	973764000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1671719
+SHUFFLE	COMPRESS_BYTE_COUNT	1671723
+SHUFFLE	COPY_MAP_DATA	156755000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1695435
+SHUFFLE	COMPRESS_BYTE_COUNT	1695439
+SHUFFLE	COPY_MAP_DATA	786573000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1523733
+SHUFFLE	COMPRESS_BYTE_COUNT	1523737
+SHUFFLE	COPY_MAP_DATA	392020000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1495860
+SHUFFLE	COMPRESS_BYTE_COUNT	1495864
+SHUFFLE	COPY_MAP_DATA	27100000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1405017
+SHUFFLE	COMPRESS_BYTE_COUNT	1405021
+SHUFFLE	COPY_MAP_DATA	24316000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1730389
+SHUFFLE	COMPRESS_BYTE_COUNT	1730393
+SHUFFLE	COPY_MAP_DATA	63771000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	772195
+SHUFFLE	COMPRESS_BYTE_COUNT	772199
+SHUFFLE	COPY_MAP_DATA	549763000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	887056
+SHUFFLE	COMPRESS_BYTE_COUNT	887060
+SHUFFLE	COPY_MAP_DATA	19616000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1546899
+SHUFFLE	COMPRESS_BYTE_COUNT	1546903
+SHUFFLE	COPY_MAP_DATA	245149000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1797907
+SHUFFLE	COMPRESS_BYTE_COUNT	1797911
+SHUFFLE	COPY_MAP_DATA	34094000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	821343
+SHUFFLE	COMPRESS_BYTE_COUNT	821347
+SHUFFLE	COPY_MAP_DATA	459024000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	929914
+SHUFFLE	COMPRESS_BYTE_COUNT	929918
+SHUFFLE	COPY_MAP_DATA	20629000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1504199
+SHUFFLE	COMPRESS_BYTE_COUNT	1504203
+SHUFFLE	COPY_MAP_DATA	37659000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	843916
+SHUFFLE	COMPRESS_BYTE_COUNT	843920
+SHUFFLE	COPY_MAP_DATA	13332000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1672733
+SHUFFLE	COMPRESS_BYTE_COUNT	1672737
+SHUFFLE	COPY_MAP_DATA	148132000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1443846
+SHUFFLE	COMPRESS_BYTE_COUNT	1443850
+SHUFFLE	COPY_MAP_DATA	157328000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	959133
+SHUFFLE	COMPRESS_BYTE_COUNT	959137
+SHUFFLE	COPY_MAP_DATA	26287000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1408098
+SHUFFLE	COMPRESS_BYTE_COUNT	1408102
+SHUFFLE	COPY_MAP_DATA	52218000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	959994
+SHUFFLE	COMPRESS_BYTE_COUNT	959998
+SHUFFLE	COPY_MAP_DATA	205075000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1755128
+SHUFFLE	COMPRESS_BYTE_COUNT	1755132
+SHUFFLE	COPY_MAP_DATA	115848000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1597633
+SHUFFLE	COMPRESS_BYTE_COUNT	1597637
+SHUFFLE	COPY_MAP_DATA	43986000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1669393
+SHUFFLE	COMPRESS_BYTE_COUNT	1669397
+SHUFFLE	COPY_MAP_DATA	92104000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1682401
+SHUFFLE	COMPRESS_BYTE_COUNT	1682405
+SHUFFLE	COPY_MAP_DATA	44057000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1543833
+SHUFFLE	COMPRESS_BYTE_COUNT	1543837
+SHUFFLE	COPY_MAP_DATA	76883000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	927697
+SHUFFLE	COMPRESS_BYTE_COUNT	927701
+SHUFFLE	COPY_MAP_DATA	46748000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1010411
+SHUFFLE	COMPRESS_BYTE_COUNT	1010415
+SHUFFLE	COPY_MAP_DATA	31898000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	915560
+SHUFFLE	COMPRESS_BYTE_COUNT	915564
+SHUFFLE	COPY_MAP_DATA	22234000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1523463
+SHUFFLE	COMPRESS_BYTE_COUNT	1523467
+SHUFFLE	COPY_MAP_DATA	193453000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	991730
+SHUFFLE	COMPRESS_BYTE_COUNT	991734
+SHUFFLE	COPY_MAP_DATA	187529000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1509739
+SHUFFLE	COMPRESS_BYTE_COUNT	1509743
+SHUFFLE	COPY_MAP_DATA	85676000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1547479
+SHUFFLE	COMPRESS_BYTE_COUNT	1547483
+SHUFFLE	COPY_MAP_DATA	707869000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	982506
+SHUFFLE	COMPRESS_BYTE_COUNT	982510
+SHUFFLE	COPY_MAP_DATA	47689000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1913610
+SHUFFLE	COMPRESS_BYTE_COUNT	1913614
+SHUFFLE	COPY_MAP_DATA	85271000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	922739
+SHUFFLE	COMPRESS_BYTE_COUNT	922743
+SHUFFLE	COPY_MAP_DATA	260482000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1607888
+SHUFFLE	COMPRESS_BYTE_COUNT	1607892
+SHUFFLE	COPY_MAP_DATA	308493000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1601415
+SHUFFLE	COMPRESS_BYTE_COUNT	1601419
+SHUFFLE	COPY_MAP_DATA	37325000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1518050
+SHUFFLE	COMPRESS_BYTE_COUNT	1518054
+SHUFFLE	COPY_MAP_DATA	137003000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	917317
+SHUFFLE	COMPRESS_BYTE_COUNT	917321
+SHUFFLE	COPY_MAP_DATA	86459000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	944988
+SHUFFLE	COMPRESS_BYTE_COUNT	944992
+SHUFFLE	COPY_MAP_DATA	125326000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	928609
+SHUFFLE	COMPRESS_BYTE_COUNT	928613
+SHUFFLE	COPY_MAP_DATA	285035000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	979754
+SHUFFLE	COMPRESS_BYTE_COUNT	979758
+SHUFFLE	COPY_MAP_DATA	135942000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1002777
+SHUFFLE	COMPRESS_BYTE_COUNT	1002781
+SHUFFLE	COPY_MAP_DATA	376631000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	815843
+SHUFFLE	COMPRESS_BYTE_COUNT	815847
+SHUFFLE	COPY_MAP_DATA	774318000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	895128
+SHUFFLE	COMPRESS_BYTE_COUNT	895132
+SHUFFLE	COPY_MAP_DATA	20449000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	932432
+SHUFFLE	COMPRESS_BYTE_COUNT	932436
+SHUFFLE	COPY_MAP_DATA	341989000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	946631
+SHUFFLE	COMPRESS_BYTE_COUNT	946635
+SHUFFLE	COPY_MAP_DATA	19730000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	883154
+SHUFFLE	COMPRESS_BYTE_COUNT	883158
+SHUFFLE	COPY_MAP_DATA	17543000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	945851
+SHUFFLE	COMPRESS_BYTE_COUNT	945855
+SHUFFLE	COPY_MAP_DATA	18937000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	946111
+SHUFFLE	COMPRESS_BYTE_COUNT	946115
+SHUFFLE	COPY_MAP_DATA	41642000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	953615
+SHUFFLE	COMPRESS_BYTE_COUNT	953619
+SHUFFLE	COPY_MAP_DATA	62103000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	956408
+SHUFFLE	COMPRESS_BYTE_COUNT	956412
+SHUFFLE	COPY_MAP_DATA	284194000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	928127
+SHUFFLE	COMPRESS_BYTE_COUNT	928131
+SHUFFLE	COPY_MAP_DATA	714986000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	905625
+SHUFFLE	COMPRESS_BYTE_COUNT	905629
+SHUFFLE	COPY_MAP_DATA	17373000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	929228
+SHUFFLE	COMPRESS_BYTE_COUNT	929232
+SHUFFLE	COPY_MAP_DATA	180582000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	960357
+SHUFFLE	COMPRESS_BYTE_COUNT	960361
+SHUFFLE	COPY_MAP_DATA	299981000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1503515
+SHUFFLE	COMPRESS_BYTE_COUNT	1503519
+SHUFFLE	COPY_MAP_DATA	9626408000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	955190
+SHUFFLE	COMPRESS_BYTE_COUNT	955194
+SHUFFLE	COPY_MAP_DATA	24676000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	941317
+SHUFFLE	COMPRESS_BYTE_COUNT	941321
+SHUFFLE	COPY_MAP_DATA	81579000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1049701
+SHUFFLE	COMPRESS_BYTE_COUNT	1049705
+SHUFFLE	COPY_MAP_DATA	43201000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	942825
+SHUFFLE	COMPRESS_BYTE_COUNT	942829
+SHUFFLE	COPY_MAP_DATA	30882000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	954652
+SHUFFLE	COMPRESS_BYTE_COUNT	954656
+SHUFFLE	COPY_MAP_DATA	30333000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	912298
+SHUFFLE	COMPRESS_BYTE_COUNT	912302
+SHUFFLE	COPY_MAP_DATA	109977000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	929649
+SHUFFLE	COMPRESS_BYTE_COUNT	929653
+SHUFFLE	COPY_MAP_DATA	24986000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	934486
+SHUFFLE	COMPRESS_BYTE_COUNT	934490
+SHUFFLE	COPY_MAP_DATA	17937000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	944381
+SHUFFLE	COMPRESS_BYTE_COUNT	944385
+SHUFFLE	COPY_MAP_DATA	19100000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	955579
+SHUFFLE	COMPRESS_BYTE_COUNT	955583
+SHUFFLE	COPY_MAP_DATA	280995000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1023893
+SHUFFLE	COMPRESS_BYTE_COUNT	1023897
+SHUFFLE	COPY_MAP_DATA	397947000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	952009
+SHUFFLE	COMPRESS_BYTE_COUNT	952013
+SHUFFLE	COPY_MAP_DATA	89760000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1002149
+SHUFFLE	COMPRESS_BYTE_COUNT	1002153
+SHUFFLE	COPY_MAP_DATA	37985000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	894945
+SHUFFLE	COMPRESS_BYTE_COUNT	894949
+SHUFFLE	COPY_MAP_DATA	9149000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	927512
+SHUFFLE	COMPRESS_BYTE_COUNT	927516
+SHUFFLE	COPY_MAP_DATA	378782000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	964647
+SHUFFLE	COMPRESS_BYTE_COUNT	964651
+SHUFFLE	COPY_MAP_DATA	20568000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	862940
+SHUFFLE	COMPRESS_BYTE_COUNT	862944
+SHUFFLE	COPY_MAP_DATA	19583000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	910724
+SHUFFLE	COMPRESS_BYTE_COUNT	910728
+SHUFFLE	COPY_MAP_DATA	83902000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	936907
+SHUFFLE	COMPRESS_BYTE_COUNT	936911
+SHUFFLE	COPY_MAP_DATA	12400000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	881492
+SHUFFLE	COMPRESS_BYTE_COUNT	881496
+SHUFFLE	COPY_MAP_DATA	20663000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	897698
+SHUFFLE	COMPRESS_BYTE_COUNT	897702
+SHUFFLE	COPY_MAP_DATA	2029828000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	959009
+SHUFFLE	COMPRESS_BYTE_COUNT	959013
+SHUFFLE	COPY_MAP_DATA	897331000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	929014
+SHUFFLE	COMPRESS_BYTE_COUNT	929018
+SHUFFLE	COPY_MAP_DATA	28993000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	976391
+SHUFFLE	COMPRESS_BYTE_COUNT	976395
+SHUFFLE	COPY_MAP_DATA	21995000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	923882
+SHUFFLE	COMPRESS_BYTE_COUNT	923886
+SHUFFLE	COPY_MAP_DATA	16898000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	958295
+SHUFFLE	COMPRESS_BYTE_COUNT	958299
+SHUFFLE	COPY_MAP_DATA	196997000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	923111
+SHUFFLE	COMPRESS_BYTE_COUNT	923115
+SHUFFLE	COPY_MAP_DATA	81624000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	864222
+SHUFFLE	COMPRESS_BYTE_COUNT	864226
+SHUFFLE	COPY_MAP_DATA	17580000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	926210
+SHUFFLE	COMPRESS_BYTE_COUNT	926214
+SHUFFLE	COPY_MAP_DATA	89463000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	914639
+SHUFFLE	COMPRESS_BYTE_COUNT	914643
+SHUFFLE	COPY_MAP_DATA	171782000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	915443
+SHUFFLE	COMPRESS_BYTE_COUNT	915447
+SHUFFLE	COPY_MAP_DATA	93269000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	964140
+SHUFFLE	COMPRESS_BYTE_COUNT	964144
+SHUFFLE	COPY_MAP_DATA	16173000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	885283
+SHUFFLE	COMPRESS_BYTE_COUNT	885287
+SHUFFLE	COPY_MAP_DATA	48084000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	867642
+SHUFFLE	COMPRESS_BYTE_COUNT	867646
+SHUFFLE	COPY_MAP_DATA	55208000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	883595
+SHUFFLE	COMPRESS_BYTE_COUNT	883599
+SHUFFLE	COPY_MAP_DATA	735685000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	937759
+SHUFFLE	COMPRESS_BYTE_COUNT	937763
+SHUFFLE	COPY_MAP_DATA	29534000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	899380
+SHUFFLE	COMPRESS_BYTE_COUNT	899384
+SHUFFLE	COPY_MAP_DATA	37513000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	922868
+SHUFFLE	COMPRESS_BYTE_COUNT	922872
+SHUFFLE	COPY_MAP_DATA	210078000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	935576
+SHUFFLE	COMPRESS_BYTE_COUNT	935580
+SHUFFLE	COPY_MAP_DATA	31004000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	864821
+SHUFFLE	COMPRESS_BYTE_COUNT	864825
+SHUFFLE	COPY_MAP_DATA	23815000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	891336
+SHUFFLE	COMPRESS_BYTE_COUNT	891340
+SHUFFLE	COPY_MAP_DATA	155408000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	951491
+SHUFFLE	COMPRESS_BYTE_COUNT	951495
+SHUFFLE	COPY_MAP_DATA	187772000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	928228
+SHUFFLE	COMPRESS_BYTE_COUNT	928232
+SHUFFLE	COPY_MAP_DATA	32497000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	924921
+SHUFFLE	COMPRESS_BYTE_COUNT	924925
+SHUFFLE	COPY_MAP_DATA	17475000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	946168
+SHUFFLE	COMPRESS_BYTE_COUNT	946172
+SHUFFLE	COPY_MAP_DATA	12504000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	915896
+SHUFFLE	COMPRESS_BYTE_COUNT	915900
+SHUFFLE	COPY_MAP_DATA	199052000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	844155
+SHUFFLE	COMPRESS_BYTE_COUNT	844159
+SHUFFLE	COPY_MAP_DATA	27812000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	889170
+SHUFFLE	COMPRESS_BYTE_COUNT	889174
+SHUFFLE	COPY_MAP_DATA	43609000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	931059
+SHUFFLE	COMPRESS_BYTE_COUNT	931063
+SHUFFLE	COPY_MAP_DATA	180853000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	877239
+SHUFFLE	COMPRESS_BYTE_COUNT	877243
+SHUFFLE	COPY_MAP_DATA	35853000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	873423
+SHUFFLE	COMPRESS_BYTE_COUNT	873427
+SHUFFLE	COPY_MAP_DATA	215546000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	845357
+SHUFFLE	COMPRESS_BYTE_COUNT	845361
+SHUFFLE	COPY_MAP_DATA	30700000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	856450
+SHUFFLE	COMPRESS_BYTE_COUNT	856454
+SHUFFLE	COPY_MAP_DATA	21085000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	867701
+SHUFFLE	COMPRESS_BYTE_COUNT	867705
+SHUFFLE	COPY_MAP_DATA	78694000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	907487
+SHUFFLE	COMPRESS_BYTE_COUNT	907491
+SHUFFLE	COPY_MAP_DATA	177692000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	901408
+SHUFFLE	COMPRESS_BYTE_COUNT	901412
+SHUFFLE	COPY_MAP_DATA	55526000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	963967
+SHUFFLE	COMPRESS_BYTE_COUNT	963971
+SHUFFLE	COPY_MAP_DATA	19233000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	889787
+SHUFFLE	COMPRESS_BYTE_COUNT	889791
+SHUFFLE	COPY_MAP_DATA	305755000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	833762
+SHUFFLE	COMPRESS_BYTE_COUNT	833766
+SHUFFLE	COPY_MAP_DATA	85958000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	868385
+SHUFFLE	COMPRESS_BYTE_COUNT	868389
+SHUFFLE	COPY_MAP_DATA	19229000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	858642
+SHUFFLE	COMPRESS_BYTE_COUNT	858646
+SHUFFLE	COPY_MAP_DATA	121768000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	905081
+SHUFFLE	COMPRESS_BYTE_COUNT	905085
+SHUFFLE	COPY_MAP_DATA	27934000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	865692
+SHUFFLE	COMPRESS_BYTE_COUNT	865696
+SHUFFLE	COPY_MAP_DATA	45749000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	855797
+SHUFFLE	COMPRESS_BYTE_COUNT	855801
+SHUFFLE	COPY_MAP_DATA	29874000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	939301
+SHUFFLE	COMPRESS_BYTE_COUNT	939305
+SHUFFLE	COPY_MAP_DATA	69431000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	818608
+SHUFFLE	COMPRESS_BYTE_COUNT	818612
+SHUFFLE	COPY_MAP_DATA	46312000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	836035
+SHUFFLE	COMPRESS_BYTE_COUNT	836039
+SHUFFLE	COPY_MAP_DATA	1838802000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	853508
+SHUFFLE	COMPRESS_BYTE_COUNT	853512
+SHUFFLE	COPY_MAP_DATA	62485000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	863195
+SHUFFLE	COMPRESS_BYTE_COUNT	863199
+SHUFFLE	COPY_MAP_DATA	58349000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	853907
+SHUFFLE	COMPRESS_BYTE_COUNT	853911
+SHUFFLE	COPY_MAP_DATA	2382762000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	842193
+SHUFFLE	COMPRESS_BYTE_COUNT	842197
+SHUFFLE	COPY_MAP_DATA	28158000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	769192
+SHUFFLE	COMPRESS_BYTE_COUNT	769196
+SHUFFLE	COPY_MAP_DATA	33661000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	807850
+SHUFFLE	COMPRESS_BYTE_COUNT	807854
+SHUFFLE	COPY_MAP_DATA	84872000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	813826
+SHUFFLE	COMPRESS_BYTE_COUNT	813830
+SHUFFLE	COPY_MAP_DATA	8362000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	915728
+SHUFFLE	COMPRESS_BYTE_COUNT	915732
+SHUFFLE	COPY_MAP_DATA	1837292000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	809812
+SHUFFLE	COMPRESS_BYTE_COUNT	809816
+SHUFFLE	COPY_MAP_DATA	89621000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	852450
+SHUFFLE	COMPRESS_BYTE_COUNT	852454
+SHUFFLE	COPY_MAP_DATA	1948744000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	812043
+SHUFFLE	COMPRESS_BYTE_COUNT	812047
+SHUFFLE	COPY_MAP_DATA	15524000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	825838
+SHUFFLE	COMPRESS_BYTE_COUNT	825842
+SHUFFLE	COPY_MAP_DATA	31511000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	858851
+SHUFFLE	COMPRESS_BYTE_COUNT	858855
+SHUFFLE	COPY_MAP_DATA	139804000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	759841
+SHUFFLE	COMPRESS_BYTE_COUNT	759845
+SHUFFLE	COPY_MAP_DATA	48969000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	838337
+SHUFFLE	COMPRESS_BYTE_COUNT	838341
+SHUFFLE	COPY_MAP_DATA	127799000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	805915
+SHUFFLE	COMPRESS_BYTE_COUNT	805919
+SHUFFLE	COPY_MAP_DATA	265074000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	764379
+SHUFFLE	COMPRESS_BYTE_COUNT	764383
+SHUFFLE	COPY_MAP_DATA	537843000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	960247
+SHUFFLE	COMPRESS_BYTE_COUNT	960251
+SHUFFLE	COPY_MAP_DATA	784904000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	806259
+SHUFFLE	COMPRESS_BYTE_COUNT	806263
+SHUFFLE	COPY_MAP_DATA	18611000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	941679
+SHUFFLE	COMPRESS_BYTE_COUNT	941683
+SHUFFLE	COPY_MAP_DATA	124298000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	803409
+SHUFFLE	COMPRESS_BYTE_COUNT	803413
+SHUFFLE	COPY_MAP_DATA	18479000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	744259
+SHUFFLE	COMPRESS_BYTE_COUNT	744263
+SHUFFLE	COPY_MAP_DATA	18473000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	781555
+SHUFFLE	COMPRESS_BYTE_COUNT	781559
+SHUFFLE	COPY_MAP_DATA	15511000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	827464
+SHUFFLE	COMPRESS_BYTE_COUNT	827468
+SHUFFLE	COPY_MAP_DATA	18729000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	797175
+SHUFFLE	COMPRESS_BYTE_COUNT	797179
+SHUFFLE	COPY_MAP_DATA	17207000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	870750
+SHUFFLE	COMPRESS_BYTE_COUNT	870754
+SHUFFLE	COPY_MAP_DATA	92848000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	795048
+SHUFFLE	COMPRESS_BYTE_COUNT	795052
+SHUFFLE	COPY_MAP_DATA	99835000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	772611
+SHUFFLE	COMPRESS_BYTE_COUNT	772615
+SHUFFLE	COPY_MAP_DATA	21382000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	924918
+SHUFFLE	COMPRESS_BYTE_COUNT	924922
+SHUFFLE	COPY_MAP_DATA	67082000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	811296
+SHUFFLE	COMPRESS_BYTE_COUNT	811300
+SHUFFLE	COPY_MAP_DATA	48137000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	820269
+SHUFFLE	COMPRESS_BYTE_COUNT	820273
+SHUFFLE	COPY_MAP_DATA	1406112000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	904120
+SHUFFLE	COMPRESS_BYTE_COUNT	904124
+SHUFFLE	COPY_MAP_DATA	35191000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	800890
+SHUFFLE	COMPRESS_BYTE_COUNT	800894
+SHUFFLE	COPY_MAP_DATA	16320000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	904588
+SHUFFLE	COMPRESS_BYTE_COUNT	904592
+SHUFFLE	COPY_MAP_DATA	20158000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	714080
+SHUFFLE	COMPRESS_BYTE_COUNT	714084
+SHUFFLE	COPY_MAP_DATA	130584000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	815547
+SHUFFLE	COMPRESS_BYTE_COUNT	815551
+SHUFFLE	COPY_MAP_DATA	18501000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	769124
+SHUFFLE	COMPRESS_BYTE_COUNT	769128
+SHUFFLE	COPY_MAP_DATA	15657000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	913750
+SHUFFLE	COMPRESS_BYTE_COUNT	913754
+SHUFFLE	COPY_MAP_DATA	19064000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	934811
+SHUFFLE	COMPRESS_BYTE_COUNT	934815
+SHUFFLE	COPY_MAP_DATA	562547000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	786383
+SHUFFLE	COMPRESS_BYTE_COUNT	786387
+SHUFFLE	COPY_MAP_DATA	29856000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	816119
+SHUFFLE	COMPRESS_BYTE_COUNT	816123
+SHUFFLE	COPY_MAP_DATA	62688000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	756584
+SHUFFLE	COMPRESS_BYTE_COUNT	756588
+SHUFFLE	COPY_MAP_DATA	83518000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	846094
+SHUFFLE	COMPRESS_BYTE_COUNT	846098
+SHUFFLE	COPY_MAP_DATA	91559000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	760790
+SHUFFLE	COMPRESS_BYTE_COUNT	760794
+SHUFFLE	COPY_MAP_DATA	18509000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	740476
+SHUFFLE	COMPRESS_BYTE_COUNT	740480
+SHUFFLE	COPY_MAP_DATA	46429000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	799520
+SHUFFLE	COMPRESS_BYTE_COUNT	799524
+SHUFFLE	COPY_MAP_DATA	199528000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	751192
+SHUFFLE	COMPRESS_BYTE_COUNT	751196
+SHUFFLE	COPY_MAP_DATA	60983000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	923270
+SHUFFLE	COMPRESS_BYTE_COUNT	923274
+SHUFFLE	COPY_MAP_DATA	99853000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	733081
+SHUFFLE	COMPRESS_BYTE_COUNT	733085
+SHUFFLE	COPY_MAP_DATA	29876000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	772914
+SHUFFLE	COMPRESS_BYTE_COUNT	772918
+SHUFFLE	COPY_MAP_DATA	32834000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	724719
+SHUFFLE	COMPRESS_BYTE_COUNT	724723
+SHUFFLE	COPY_MAP_DATA	326214000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	754873
+SHUFFLE	COMPRESS_BYTE_COUNT	754877
+SHUFFLE	COPY_MAP_DATA	46638000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	800813
+SHUFFLE	COMPRESS_BYTE_COUNT	800817
+SHUFFLE	COPY_MAP_DATA	63842000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	741287
+SHUFFLE	COMPRESS_BYTE_COUNT	741291
+SHUFFLE	COPY_MAP_DATA	68177000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	734947
+SHUFFLE	COMPRESS_BYTE_COUNT	734951
+SHUFFLE	COPY_MAP_DATA	38281000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	781687
+SHUFFLE	COMPRESS_BYTE_COUNT	781691
+SHUFFLE	COPY_MAP_DATA	9091000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1154578
+SHUFFLE	COMPRESS_BYTE_COUNT	1154582
+SHUFFLE	COPY_MAP_DATA	145944000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1010737
+SHUFFLE	COMPRESS_BYTE_COUNT	1010741
+SHUFFLE	COPY_MAP_DATA	107453000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	915137
+SHUFFLE	COMPRESS_BYTE_COUNT	915141
+SHUFFLE	COPY_MAP_DATA	818062000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	757560
+SHUFFLE	COMPRESS_BYTE_COUNT	757564
+SHUFFLE	COPY_MAP_DATA	92429000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	710848
+SHUFFLE	COMPRESS_BYTE_COUNT	710852
+SHUFFLE	COPY_MAP_DATA	328115000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	841942
+SHUFFLE	COMPRESS_BYTE_COUNT	841946
+SHUFFLE	COPY_MAP_DATA	34508000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	750323
+SHUFFLE	COMPRESS_BYTE_COUNT	750327
+SHUFFLE	COPY_MAP_DATA	119893000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	872755
+SHUFFLE	COMPRESS_BYTE_COUNT	872759
+SHUFFLE	COPY_MAP_DATA	62217000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	702819
+SHUFFLE	COMPRESS_BYTE_COUNT	702823
+SHUFFLE	COPY_MAP_DATA	259084000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	736591
+SHUFFLE	COMPRESS_BYTE_COUNT	736595
+SHUFFLE	COPY_MAP_DATA	1709804000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	696485
+SHUFFLE	COMPRESS_BYTE_COUNT	696489
+SHUFFLE	COPY_MAP_DATA	836708000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	728371
+SHUFFLE	COMPRESS_BYTE_COUNT	728375
+SHUFFLE	COPY_MAP_DATA	106130000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	753309
+SHUFFLE	COMPRESS_BYTE_COUNT	753313
+SHUFFLE	COPY_MAP_DATA	2186823000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	774847
+SHUFFLE	COMPRESS_BYTE_COUNT	774851
+SHUFFLE	COPY_MAP_DATA	122631000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	783123
+SHUFFLE	COMPRESS_BYTE_COUNT	783127
+SHUFFLE	COPY_MAP_DATA	7937000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	725328
+SHUFFLE	COMPRESS_BYTE_COUNT	725332
+SHUFFLE	COPY_MAP_DATA	11300000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1171937
+SHUFFLE	COMPRESS_BYTE_COUNT	1171941
+SHUFFLE	COPY_MAP_DATA	23336000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	758568
+SHUFFLE	COMPRESS_BYTE_COUNT	758572
+SHUFFLE	COPY_MAP_DATA	31097000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	904635
+SHUFFLE	COMPRESS_BYTE_COUNT	904639
+SHUFFLE	COPY_MAP_DATA	234151000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	814755
+SHUFFLE	COMPRESS_BYTE_COUNT	814759
+SHUFFLE	COPY_MAP_DATA	91193000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	876638
+SHUFFLE	COMPRESS_BYTE_COUNT	876642
+SHUFFLE	COPY_MAP_DATA	23409000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	727734
+SHUFFLE	COMPRESS_BYTE_COUNT	727738
+SHUFFLE	COPY_MAP_DATA	148296000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	778800
+SHUFFLE	COMPRESS_BYTE_COUNT	778804
+SHUFFLE	COPY_MAP_DATA	56741000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	754936
+SHUFFLE	COMPRESS_BYTE_COUNT	754940
+SHUFFLE	COPY_MAP_DATA	1270238000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	782219
+SHUFFLE	COMPRESS_BYTE_COUNT	782223
+SHUFFLE	COPY_MAP_DATA	19327000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	710849
+SHUFFLE	COMPRESS_BYTE_COUNT	710853
+SHUFFLE	COPY_MAP_DATA	52497000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	715219
+SHUFFLE	COMPRESS_BYTE_COUNT	715223
+SHUFFLE	COPY_MAP_DATA	74828000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	833043
+SHUFFLE	COMPRESS_BYTE_COUNT	833047
+SHUFFLE	COPY_MAP_DATA	38160000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	815496
+SHUFFLE	COMPRESS_BYTE_COUNT	815500
+SHUFFLE	COPY_MAP_DATA	775473000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	700578
+SHUFFLE	COMPRESS_BYTE_COUNT	700582
+SHUFFLE	COPY_MAP_DATA	43787000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	781516
+SHUFFLE	COMPRESS_BYTE_COUNT	781520
+SHUFFLE	COPY_MAP_DATA	24280000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	788383
+SHUFFLE	COMPRESS_BYTE_COUNT	788387
+SHUFFLE	COPY_MAP_DATA	30912000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	762003
+SHUFFLE	COMPRESS_BYTE_COUNT	762007
+SHUFFLE	COPY_MAP_DATA	2582330000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	975778
+SHUFFLE	COMPRESS_BYTE_COUNT	975782
+SHUFFLE	COPY_MAP_DATA	1516685000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	774929
+SHUFFLE	COMPRESS_BYTE_COUNT	774933
+SHUFFLE	COPY_MAP_DATA	40146000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	799980
+SHUFFLE	COMPRESS_BYTE_COUNT	799984
+SHUFFLE	COPY_MAP_DATA	18752000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	782830
+SHUFFLE	COMPRESS_BYTE_COUNT	782834
+SHUFFLE	COPY_MAP_DATA	38059000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	710849
+SHUFFLE	COMPRESS_BYTE_COUNT	710853
+SHUFFLE	COPY_MAP_DATA	7354000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	854067
+SHUFFLE	COMPRESS_BYTE_COUNT	854071
+SHUFFLE	COPY_MAP_DATA	28179000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	850495
+SHUFFLE	COMPRESS_BYTE_COUNT	850499
+SHUFFLE	COPY_MAP_DATA	15563000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	712709
+SHUFFLE	COMPRESS_BYTE_COUNT	712713
+SHUFFLE	COPY_MAP_DATA	15943000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	797032
+SHUFFLE	COMPRESS_BYTE_COUNT	797036
+SHUFFLE	COPY_MAP_DATA	14953000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	706366
+SHUFFLE	COMPRESS_BYTE_COUNT	706370
+SHUFFLE	COPY_MAP_DATA	630856000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	801382
+SHUFFLE	COMPRESS_BYTE_COUNT	801386
+SHUFFLE	COPY_MAP_DATA	21978000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	768128
+SHUFFLE	COMPRESS_BYTE_COUNT	768132
+SHUFFLE	COPY_MAP_DATA	77010000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	831760
+SHUFFLE	COMPRESS_BYTE_COUNT	831764
+SHUFFLE	COPY_MAP_DATA	33390000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	740642
+SHUFFLE	COMPRESS_BYTE_COUNT	740646
+SHUFFLE	COPY_MAP_DATA	66979000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	813034
+SHUFFLE	COMPRESS_BYTE_COUNT	813038
+SHUFFLE	COPY_MAP_DATA	19562000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	792757
+SHUFFLE	COMPRESS_BYTE_COUNT	792761
+SHUFFLE	COPY_MAP_DATA	17150000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	708901
+SHUFFLE	COMPRESS_BYTE_COUNT	708905
+SHUFFLE	COPY_MAP_DATA	118386000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	728339
+SHUFFLE	COMPRESS_BYTE_COUNT	728343
+SHUFFLE	COPY_MAP_DATA	14385000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	690939
+SHUFFLE	COMPRESS_BYTE_COUNT	690943
+SHUFFLE	COPY_MAP_DATA	17060000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	755106
+SHUFFLE	COMPRESS_BYTE_COUNT	755110
+SHUFFLE	COPY_MAP_DATA	41391000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	811686
+SHUFFLE	COMPRESS_BYTE_COUNT	811690
+SHUFFLE	COPY_MAP_DATA	197877000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	748411
+SHUFFLE	COMPRESS_BYTE_COUNT	748415
+SHUFFLE	COPY_MAP_DATA	50954000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	750778
+SHUFFLE	COMPRESS_BYTE_COUNT	750782
+SHUFFLE	COPY_MAP_DATA	15762000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	625270
+SHUFFLE	COMPRESS_BYTE_COUNT	625274
+SHUFFLE	COPY_MAP_DATA	35823000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	761462
+SHUFFLE	COMPRESS_BYTE_COUNT	761466
+SHUFFLE	COPY_MAP_DATA	14909000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	943842
+SHUFFLE	COMPRESS_BYTE_COUNT	943846
+SHUFFLE	COPY_MAP_DATA	14856000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	773412
+SHUFFLE	COMPRESS_BYTE_COUNT	773416
+SHUFFLE	COPY_MAP_DATA	14621000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	966012
+SHUFFLE	COMPRESS_BYTE_COUNT	966016
+SHUFFLE	COPY_MAP_DATA	19605000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	971933
+SHUFFLE	COMPRESS_BYTE_COUNT	971937
+SHUFFLE	COPY_MAP_DATA	22329000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	840461
+SHUFFLE	COMPRESS_BYTE_COUNT	840465
+SHUFFLE	COPY_MAP_DATA	14705000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	721643
+SHUFFLE	COMPRESS_BYTE_COUNT	721647
+SHUFFLE	COPY_MAP_DATA	13640000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	96601741167
+MERGE	READ_WRITE	93942368167
+MERGE	READ_WRITE_COUNT	2
+MERGE	COMBINE	0
+MERGE	WRITE	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	13651380000
+SORT	READ_WRITE	13446961000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	144056128
+REDUCE	SETUP	368000
+REDUCE	SETUP_MEM	144056128
+REDUCE	CLEANUP	43000
+REDUCE	CLEANUP_MEM	181325952
+REDUCE	TOTAL_RUN	116104407941
+REDUCE	READ	10726694000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	95950111941
+REDUCE	WRITE	31489396000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	67755424
+REDUCE	VALUE_BYTE_COUNT	62180182
+REDUCE	REDUCE_MEM	181325952
+REDUCE	WRITE	36249000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	661219195267
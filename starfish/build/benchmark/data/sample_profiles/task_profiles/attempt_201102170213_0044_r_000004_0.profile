@@ -0,0 +1,1333 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1841100
+SHUFFLE	COMPRESS_BYTE_COUNT	1841104
+SHUFFLE	COPY_MAP_DATA	2754008000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1987146
+SHUFFLE	COMPRESS_BYTE_COUNT	1987150
+SHUFFLE	COPY_MAP_DATA	32736000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1840749
+SHUFFLE	COMPRESS_BYTE_COUNT	1840753
+SHUFFLE	COPY_MAP_DATA	74700000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2028729
+SHUFFLE	COMPRESS_BYTE_COUNT	2028733
+SHUFFLE	COPY_MAP_DATA	24128000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2041324
+SHUFFLE	COMPRESS_BYTE_COUNT	2041328
+SHUFFLE	COPY_MAP_DATA	53043000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2069025
+SHUFFLE	COMPRESS_BYTE_COUNT	2069029
+SHUFFLE	COPY_MAP_DATA	35087000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2136026
+SHUFFLE	COMPRESS_BYTE_COUNT	2136030
+SHUFFLE	COPY_MAP_DATA	76708000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1786470
+SHUFFLE	COMPRESS_BYTE_COUNT	1786474
+SHUFFLE	COPY_MAP_DATA	635514000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2099882
+SHUFFLE	COMPRESS_BYTE_COUNT	2099886
+SHUFFLE	COPY_MAP_DATA	148042000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2066548
+SHUFFLE	COMPRESS_BYTE_COUNT	2066552
+SHUFFLE	COPY_MAP_DATA	63674000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1977375
+SHUFFLE	COMPRESS_BYTE_COUNT	1977379
+SHUFFLE	COPY_MAP_DATA	70531000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1840453
+SHUFFLE	COMPRESS_BYTE_COUNT	1840457
+SHUFFLE	COPY_MAP_DATA	77181000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2067569
+SHUFFLE	COMPRESS_BYTE_COUNT	2067573
+SHUFFLE	COPY_MAP_DATA	34069000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1938143
+SHUFFLE	COMPRESS_BYTE_COUNT	1938147
+SHUFFLE	COPY_MAP_DATA	84560000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2182602
+SHUFFLE	COMPRESS_BYTE_COUNT	2182606
+SHUFFLE	COPY_MAP_DATA	118409000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1968259
+SHUFFLE	COMPRESS_BYTE_COUNT	1968263
+SHUFFLE	COPY_MAP_DATA	30212000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2008343
+SHUFFLE	COMPRESS_BYTE_COUNT	2008347
+SHUFFLE	COPY_MAP_DATA	106282000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2175856
+SHUFFLE	COMPRESS_BYTE_COUNT	2175860
+SHUFFLE	COPY_MAP_DATA	296501000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2036463
+SHUFFLE	COMPRESS_BYTE_COUNT	2036467
+SHUFFLE	COPY_MAP_DATA	27219000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1959314
+SHUFFLE	COMPRESS_BYTE_COUNT	1959318
+SHUFFLE	COPY_MAP_DATA	85084000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1807014
+SHUFFLE	COMPRESS_BYTE_COUNT	1807018
+SHUFFLE	COPY_MAP_DATA	16554000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2060083
+SHUFFLE	COMPRESS_BYTE_COUNT	2060087
+SHUFFLE	COPY_MAP_DATA	85357000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1945231
+SHUFFLE	COMPRESS_BYTE_COUNT	1945235
+SHUFFLE	COPY_MAP_DATA	247444000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2243287
+SHUFFLE	COMPRESS_BYTE_COUNT	2243291
+SHUFFLE	COPY_MAP_DATA	75281000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2120148
+SHUFFLE	COMPRESS_BYTE_COUNT	2120152
+SHUFFLE	COPY_MAP_DATA	122455000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1994713
+SHUFFLE	COMPRESS_BYTE_COUNT	1994717
+SHUFFLE	COPY_MAP_DATA	545583000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2248822
+SHUFFLE	COMPRESS_BYTE_COUNT	2248826
+SHUFFLE	COPY_MAP_DATA	49843000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2000654
+SHUFFLE	COMPRESS_BYTE_COUNT	2000658
+SHUFFLE	COPY_MAP_DATA	55936000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2022433
+SHUFFLE	COMPRESS_BYTE_COUNT	2022437
+SHUFFLE	COPY_MAP_DATA	3083897000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2095239
+SHUFFLE	COMPRESS_BYTE_COUNT	2095243
+SHUFFLE	COPY_MAP_DATA	84519000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2037806
+SHUFFLE	COMPRESS_BYTE_COUNT	2037810
+SHUFFLE	COPY_MAP_DATA	6796438000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1888006
+SHUFFLE	COMPRESS_BYTE_COUNT	1888010
+SHUFFLE	COPY_MAP_DATA	1442413000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1931705
+SHUFFLE	COMPRESS_BYTE_COUNT	1931709
+SHUFFLE	COPY_MAP_DATA	3364577000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1741773
+SHUFFLE	COMPRESS_BYTE_COUNT	1741777
+SHUFFLE	COPY_MAP_DATA	442434000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2189667
+SHUFFLE	COMPRESS_BYTE_COUNT	2189671
+SHUFFLE	COPY_MAP_DATA	206155000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1800218
+SHUFFLE	COMPRESS_BYTE_COUNT	1800222
+SHUFFLE	COPY_MAP_DATA	435820000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1809551
+SHUFFLE	COMPRESS_BYTE_COUNT	1809555
+SHUFFLE	COPY_MAP_DATA	86748000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1839753
+SHUFFLE	COMPRESS_BYTE_COUNT	1839757
+SHUFFLE	COPY_MAP_DATA	169966000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1974186
+SHUFFLE	COMPRESS_BYTE_COUNT	1974190
+SHUFFLE	COPY_MAP_DATA	421996000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1728800
+SHUFFLE	COMPRESS_BYTE_COUNT	1728804
+SHUFFLE	COPY_MAP_DATA	198499000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1814561
+SHUFFLE	COMPRESS_BYTE_COUNT	1814565
+SHUFFLE	COPY_MAP_DATA	386196000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1890972
+SHUFFLE	COMPRESS_BYTE_COUNT	1890976
+SHUFFLE	COPY_MAP_DATA	460688000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1849300
+SHUFFLE	COMPRESS_BYTE_COUNT	1849304
+SHUFFLE	COPY_MAP_DATA	75498000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1970454
+SHUFFLE	COMPRESS_BYTE_COUNT	1970458
+SHUFFLE	COPY_MAP_DATA	28839000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1676700
+SHUFFLE	COMPRESS_BYTE_COUNT	1676704
+SHUFFLE	COPY_MAP_DATA	180358000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1734069
+SHUFFLE	COMPRESS_BYTE_COUNT	1734073
+SHUFFLE	COPY_MAP_DATA	300148000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1933019
+SHUFFLE	COMPRESS_BYTE_COUNT	1933023
+SHUFFLE	COPY_MAP_DATA	611547000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1865346
+SHUFFLE	COMPRESS_BYTE_COUNT	1865350
+SHUFFLE	COPY_MAP_DATA	49108000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1826870
+SHUFFLE	COMPRESS_BYTE_COUNT	1826874
+SHUFFLE	COPY_MAP_DATA	618519000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1748208
+SHUFFLE	COMPRESS_BYTE_COUNT	1748212
+SHUFFLE	COPY_MAP_DATA	71961000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1569267
+SHUFFLE	COMPRESS_BYTE_COUNT	1569271
+SHUFFLE	COPY_MAP_DATA	52150000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1771948
+SHUFFLE	COMPRESS_BYTE_COUNT	1771952
+SHUFFLE	COPY_MAP_DATA	115861000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1701420
+SHUFFLE	COMPRESS_BYTE_COUNT	1701424
+SHUFFLE	COPY_MAP_DATA	95852000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1655503
+SHUFFLE	COMPRESS_BYTE_COUNT	1655507
+SHUFFLE	COPY_MAP_DATA	26683000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1866673
+SHUFFLE	COMPRESS_BYTE_COUNT	1866677
+SHUFFLE	COPY_MAP_DATA	27857000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1839941
+SHUFFLE	COMPRESS_BYTE_COUNT	1839945
+SHUFFLE	COPY_MAP_DATA	293170000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1859605
+SHUFFLE	COMPRESS_BYTE_COUNT	1859609
+SHUFFLE	COPY_MAP_DATA	490985000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1905735
+SHUFFLE	COMPRESS_BYTE_COUNT	1905739
+SHUFFLE	COPY_MAP_DATA	78714000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1849979
+SHUFFLE	COMPRESS_BYTE_COUNT	1849983
+SHUFFLE	COPY_MAP_DATA	35608000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1774460
+SHUFFLE	COMPRESS_BYTE_COUNT	1774464
+SHUFFLE	COPY_MAP_DATA	129454000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1934786
+SHUFFLE	COMPRESS_BYTE_COUNT	1934790
+SHUFFLE	COPY_MAP_DATA	911924000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1577088
+SHUFFLE	COMPRESS_BYTE_COUNT	1577092
+SHUFFLE	COPY_MAP_DATA	595040000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1671444
+SHUFFLE	COMPRESS_BYTE_COUNT	1671448
+SHUFFLE	COPY_MAP_DATA	190268000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1614822
+SHUFFLE	COMPRESS_BYTE_COUNT	1614826
+SHUFFLE	COPY_MAP_DATA	409356000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1599780
+SHUFFLE	COMPRESS_BYTE_COUNT	1599784
+SHUFFLE	COPY_MAP_DATA	25342000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1638892
+SHUFFLE	COMPRESS_BYTE_COUNT	1638896
+SHUFFLE	COPY_MAP_DATA	239447000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1606957
+SHUFFLE	COMPRESS_BYTE_COUNT	1606961
+SHUFFLE	COPY_MAP_DATA	110362000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1636872
+SHUFFLE	COMPRESS_BYTE_COUNT	1636876
+SHUFFLE	COPY_MAP_DATA	42138000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1548648
+SHUFFLE	COMPRESS_BYTE_COUNT	1548652
+SHUFFLE	COPY_MAP_DATA	132171000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1585724
+SHUFFLE	COMPRESS_BYTE_COUNT	1585728
+SHUFFLE	COPY_MAP_DATA	25014000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1653983
+SHUFFLE	COMPRESS_BYTE_COUNT	1653987
+SHUFFLE	COPY_MAP_DATA	11323351000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1618250
+SHUFFLE	COMPRESS_BYTE_COUNT	1618254
+SHUFFLE	COPY_MAP_DATA	156620000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1864684
+SHUFFLE	COMPRESS_BYTE_COUNT	1864688
+SHUFFLE	COPY_MAP_DATA	152189000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1860778
+SHUFFLE	COMPRESS_BYTE_COUNT	1860782
+SHUFFLE	COPY_MAP_DATA	135652000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1468062
+SHUFFLE	COMPRESS_BYTE_COUNT	1468066
+SHUFFLE	COPY_MAP_DATA	1773349000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1593038
+SHUFFLE	COMPRESS_BYTE_COUNT	1593042
+SHUFFLE	COPY_MAP_DATA	702583000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1664356
+SHUFFLE	COMPRESS_BYTE_COUNT	1664360
+SHUFFLE	COPY_MAP_DATA	57041000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1642878
+SHUFFLE	COMPRESS_BYTE_COUNT	1642882
+SHUFFLE	COPY_MAP_DATA	93627000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1743284
+SHUFFLE	COMPRESS_BYTE_COUNT	1743288
+SHUFFLE	COPY_MAP_DATA	65247000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1725152
+SHUFFLE	COMPRESS_BYTE_COUNT	1725156
+SHUFFLE	COPY_MAP_DATA	37541000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1744200
+SHUFFLE	COMPRESS_BYTE_COUNT	1744204
+SHUFFLE	COPY_MAP_DATA	179565000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1814900
+SHUFFLE	COMPRESS_BYTE_COUNT	1814904
+SHUFFLE	COPY_MAP_DATA	596514000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1472551
+SHUFFLE	COMPRESS_BYTE_COUNT	1472555
+SHUFFLE	COPY_MAP_DATA	894475000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1706740
+SHUFFLE	COMPRESS_BYTE_COUNT	1706744
+SHUFFLE	COPY_MAP_DATA	63045000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1539310
+SHUFFLE	COMPRESS_BYTE_COUNT	1539314
+SHUFFLE	COPY_MAP_DATA	387658000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1672951
+SHUFFLE	COMPRESS_BYTE_COUNT	1672955
+SHUFFLE	COPY_MAP_DATA	1285112000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1769569
+SHUFFLE	COMPRESS_BYTE_COUNT	1769573
+SHUFFLE	COPY_MAP_DATA	1834944000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1462367
+SHUFFLE	COMPRESS_BYTE_COUNT	1462371
+SHUFFLE	COPY_MAP_DATA	146997000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1757912
+SHUFFLE	COMPRESS_BYTE_COUNT	1757916
+SHUFFLE	COPY_MAP_DATA	33587000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	850596
+SHUFFLE	COMPRESS_BYTE_COUNT	850600
+SHUFFLE	COPY_MAP_DATA	635484000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	942314
+SHUFFLE	COMPRESS_BYTE_COUNT	942318
+SHUFFLE	COPY_MAP_DATA	17332000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1570915
+SHUFFLE	COMPRESS_BYTE_COUNT	1570919
+SHUFFLE	COPY_MAP_DATA	68636000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1620609
+SHUFFLE	COMPRESS_BYTE_COUNT	1620613
+SHUFFLE	COPY_MAP_DATA	24445000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1535647
+SHUFFLE	COMPRESS_BYTE_COUNT	1535651
+SHUFFLE	COPY_MAP_DATA	17302000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1070480
+SHUFFLE	COMPRESS_BYTE_COUNT	1070484
+SHUFFLE	COPY_MAP_DATA	29752000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1782691
+SHUFFLE	COMPRESS_BYTE_COUNT	1782695
+SHUFFLE	COPY_MAP_DATA	208913000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	935876
+SHUFFLE	COMPRESS_BYTE_COUNT	935880
+SHUFFLE	COPY_MAP_DATA	24053000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	898141
+SHUFFLE	COMPRESS_BYTE_COUNT	898145
+SHUFFLE	COPY_MAP_DATA	42150000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1506812
+SHUFFLE	COMPRESS_BYTE_COUNT	1506816
+SHUFFLE	COPY_MAP_DATA	29989000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1080303
+SHUFFLE	COMPRESS_BYTE_COUNT	1080307
+SHUFFLE	COPY_MAP_DATA	14355000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1437311
+SHUFFLE	COMPRESS_BYTE_COUNT	1437315
+SHUFFLE	COPY_MAP_DATA	52127000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1728749
+SHUFFLE	COMPRESS_BYTE_COUNT	1728753
+SHUFFLE	COPY_MAP_DATA	175008000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1728335
+SHUFFLE	COMPRESS_BYTE_COUNT	1728339
+SHUFFLE	COPY_MAP_DATA	35828000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1057313
+SHUFFLE	COMPRESS_BYTE_COUNT	1057317
+SHUFFLE	COPY_MAP_DATA	1620723000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1130122
+SHUFFLE	COMPRESS_BYTE_COUNT	1130126
+SHUFFLE	COPY_MAP_DATA	80437000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1680438
+SHUFFLE	COMPRESS_BYTE_COUNT	1680442
+SHUFFLE	COPY_MAP_DATA	71357000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1654150
+SHUFFLE	COMPRESS_BYTE_COUNT	1654154
+SHUFFLE	COPY_MAP_DATA	27807000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1741510
+SHUFFLE	COMPRESS_BYTE_COUNT	1741514
+SHUFFLE	COPY_MAP_DATA	32108000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1015774
+SHUFFLE	COMPRESS_BYTE_COUNT	1015778
+SHUFFLE	COPY_MAP_DATA	17517000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1802205
+SHUFFLE	COMPRESS_BYTE_COUNT	1802209
+SHUFFLE	COPY_MAP_DATA	44801000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1725805
+SHUFFLE	COMPRESS_BYTE_COUNT	1725809
+SHUFFLE	COPY_MAP_DATA	25026000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1493009
+SHUFFLE	COMPRESS_BYTE_COUNT	1493013
+SHUFFLE	COPY_MAP_DATA	54578000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1861667
+SHUFFLE	COMPRESS_BYTE_COUNT	1861671
+SHUFFLE	COPY_MAP_DATA	1188295000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1044311
+SHUFFLE	COMPRESS_BYTE_COUNT	1044315
+SHUFFLE	COPY_MAP_DATA	323780000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1005906
+SHUFFLE	COMPRESS_BYTE_COUNT	1005910
+SHUFFLE	COPY_MAP_DATA	175746000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1656270
+SHUFFLE	COMPRESS_BYTE_COUNT	1656274
+SHUFFLE	COPY_MAP_DATA	208139000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1036339
+SHUFFLE	COMPRESS_BYTE_COUNT	1036343
+SHUFFLE	COPY_MAP_DATA	23288000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1674063
+SHUFFLE	COMPRESS_BYTE_COUNT	1674067
+SHUFFLE	COPY_MAP_DATA	35030000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1102301
+SHUFFLE	COMPRESS_BYTE_COUNT	1102305
+SHUFFLE	COPY_MAP_DATA	11896000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1769723
+SHUFFLE	COMPRESS_BYTE_COUNT	1769727
+SHUFFLE	COPY_MAP_DATA	51749000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1030771
+SHUFFLE	COMPRESS_BYTE_COUNT	1030775
+SHUFFLE	COPY_MAP_DATA	20697000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1038009
+SHUFFLE	COMPRESS_BYTE_COUNT	1038013
+SHUFFLE	COPY_MAP_DATA	77845000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1022249
+SHUFFLE	COMPRESS_BYTE_COUNT	1022253
+SHUFFLE	COPY_MAP_DATA	18692000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1085939
+SHUFFLE	COMPRESS_BYTE_COUNT	1085943
+SHUFFLE	COPY_MAP_DATA	25116000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1028310
+SHUFFLE	COMPRESS_BYTE_COUNT	1028314
+SHUFFLE	COPY_MAP_DATA	69142000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1082141
+SHUFFLE	COMPRESS_BYTE_COUNT	1082145
+SHUFFLE	COPY_MAP_DATA	135648000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1053240
+SHUFFLE	COMPRESS_BYTE_COUNT	1053244
+SHUFFLE	COPY_MAP_DATA	30809000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1024423
+SHUFFLE	COMPRESS_BYTE_COUNT	1024427
+SHUFFLE	COPY_MAP_DATA	30880000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	888836
+SHUFFLE	COMPRESS_BYTE_COUNT	888840
+SHUFFLE	COPY_MAP_DATA	34232000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	996618
+SHUFFLE	COMPRESS_BYTE_COUNT	996622
+SHUFFLE	COPY_MAP_DATA	95522000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1045222
+SHUFFLE	COMPRESS_BYTE_COUNT	1045226
+SHUFFLE	COPY_MAP_DATA	584143000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1004987
+SHUFFLE	COMPRESS_BYTE_COUNT	1004991
+SHUFFLE	COPY_MAP_DATA	21029000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1037928
+SHUFFLE	COMPRESS_BYTE_COUNT	1037932
+SHUFFLE	COPY_MAP_DATA	155588000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	956157
+SHUFFLE	COMPRESS_BYTE_COUNT	956161
+SHUFFLE	COPY_MAP_DATA	71199000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1025817
+SHUFFLE	COMPRESS_BYTE_COUNT	1025821
+SHUFFLE	COPY_MAP_DATA	613503000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1044604
+SHUFFLE	COMPRESS_BYTE_COUNT	1044608
+SHUFFLE	COPY_MAP_DATA	19631000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1036954
+SHUFFLE	COMPRESS_BYTE_COUNT	1036958
+SHUFFLE	COPY_MAP_DATA	777278000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1021328
+SHUFFLE	COMPRESS_BYTE_COUNT	1021332
+SHUFFLE	COPY_MAP_DATA	813081000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1562824
+SHUFFLE	COMPRESS_BYTE_COUNT	1562828
+SHUFFLE	COPY_MAP_DATA	13766643000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1048838
+SHUFFLE	COMPRESS_BYTE_COUNT	1048842
+SHUFFLE	COPY_MAP_DATA	21334000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1077635
+SHUFFLE	COMPRESS_BYTE_COUNT	1077639
+SHUFFLE	COPY_MAP_DATA	37221000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1009498
+SHUFFLE	COMPRESS_BYTE_COUNT	1009502
+SHUFFLE	COPY_MAP_DATA	43746000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1157350
+SHUFFLE	COMPRESS_BYTE_COUNT	1157354
+SHUFFLE	COPY_MAP_DATA	15222000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1009578
+SHUFFLE	COMPRESS_BYTE_COUNT	1009582
+SHUFFLE	COPY_MAP_DATA	167213000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1017922
+SHUFFLE	COMPRESS_BYTE_COUNT	1017926
+SHUFFLE	COPY_MAP_DATA	36198000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	983777
+SHUFFLE	COMPRESS_BYTE_COUNT	983781
+SHUFFLE	COPY_MAP_DATA	1979632000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1030617
+SHUFFLE	COMPRESS_BYTE_COUNT	1030621
+SHUFFLE	COPY_MAP_DATA	18170000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1000152
+SHUFFLE	COMPRESS_BYTE_COUNT	1000156
+SHUFFLE	COPY_MAP_DATA	57051000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	964928
+SHUFFLE	COMPRESS_BYTE_COUNT	964932
+SHUFFLE	COPY_MAP_DATA	823770000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	993978
+SHUFFLE	COMPRESS_BYTE_COUNT	993982
+SHUFFLE	COPY_MAP_DATA	46484000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1195584
+SHUFFLE	COMPRESS_BYTE_COUNT	1195588
+SHUFFLE	COPY_MAP_DATA	609821000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1127020
+SHUFFLE	COMPRESS_BYTE_COUNT	1127024
+SHUFFLE	COPY_MAP_DATA	34142000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	966829
+SHUFFLE	COMPRESS_BYTE_COUNT	966833
+SHUFFLE	COPY_MAP_DATA	54196000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1036313
+SHUFFLE	COMPRESS_BYTE_COUNT	1036317
+SHUFFLE	COPY_MAP_DATA	605160000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	939550
+SHUFFLE	COMPRESS_BYTE_COUNT	939554
+SHUFFLE	COPY_MAP_DATA	44289000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	993170
+SHUFFLE	COMPRESS_BYTE_COUNT	993174
+SHUFFLE	COPY_MAP_DATA	183546000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1120467
+SHUFFLE	COMPRESS_BYTE_COUNT	1120471
+SHUFFLE	COPY_MAP_DATA	126427000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	955496
+SHUFFLE	COMPRESS_BYTE_COUNT	955500
+SHUFFLE	COPY_MAP_DATA	28664000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	997960
+SHUFFLE	COMPRESS_BYTE_COUNT	997964
+SHUFFLE	COPY_MAP_DATA	89982000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1003333
+SHUFFLE	COMPRESS_BYTE_COUNT	1003337
+SHUFFLE	COPY_MAP_DATA	45751000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	995359
+SHUFFLE	COMPRESS_BYTE_COUNT	995363
+SHUFFLE	COPY_MAP_DATA	191661000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	985326
+SHUFFLE	COMPRESS_BYTE_COUNT	985330
+SHUFFLE	COPY_MAP_DATA	18320000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	988862
+SHUFFLE	COMPRESS_BYTE_COUNT	988866
+SHUFFLE	COPY_MAP_DATA	21235000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1019583
+SHUFFLE	COMPRESS_BYTE_COUNT	1019587
+SHUFFLE	COPY_MAP_DATA	27735000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1043096
+SHUFFLE	COMPRESS_BYTE_COUNT	1043100
+SHUFFLE	COPY_MAP_DATA	61351000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1069202
+SHUFFLE	COMPRESS_BYTE_COUNT	1069206
+SHUFFLE	COPY_MAP_DATA	34175000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	989076
+SHUFFLE	COMPRESS_BYTE_COUNT	989080
+SHUFFLE	COPY_MAP_DATA	17476000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	921588
+SHUFFLE	COMPRESS_BYTE_COUNT	921592
+SHUFFLE	COPY_MAP_DATA	11301000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	975097
+SHUFFLE	COMPRESS_BYTE_COUNT	975101
+SHUFFLE	COPY_MAP_DATA	244741000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	964878
+SHUFFLE	COMPRESS_BYTE_COUNT	964882
+SHUFFLE	COPY_MAP_DATA	135725000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	990423
+SHUFFLE	COMPRESS_BYTE_COUNT	990427
+SHUFFLE	COPY_MAP_DATA	10495000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	901201
+SHUFFLE	COMPRESS_BYTE_COUNT	901205
+SHUFFLE	COPY_MAP_DATA	78800000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	985137
+SHUFFLE	COMPRESS_BYTE_COUNT	985141
+SHUFFLE	COPY_MAP_DATA	18296000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	957794
+SHUFFLE	COMPRESS_BYTE_COUNT	957798
+SHUFFLE	COPY_MAP_DATA	23769000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	952968
+SHUFFLE	COMPRESS_BYTE_COUNT	952972
+SHUFFLE	COPY_MAP_DATA	31334000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	932221
+SHUFFLE	COMPRESS_BYTE_COUNT	932225
+SHUFFLE	COPY_MAP_DATA	279854000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	980388
+SHUFFLE	COMPRESS_BYTE_COUNT	980392
+SHUFFLE	COPY_MAP_DATA	61487000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	955787
+SHUFFLE	COMPRESS_BYTE_COUNT	955791
+SHUFFLE	COPY_MAP_DATA	332033000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	957757
+SHUFFLE	COMPRESS_BYTE_COUNT	957761
+SHUFFLE	COPY_MAP_DATA	119926000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	938006
+SHUFFLE	COMPRESS_BYTE_COUNT	938010
+SHUFFLE	COPY_MAP_DATA	539564000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	977525
+SHUFFLE	COMPRESS_BYTE_COUNT	977529
+SHUFFLE	COPY_MAP_DATA	65273000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	875334
+SHUFFLE	COMPRESS_BYTE_COUNT	875338
+SHUFFLE	COPY_MAP_DATA	70902000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1016879
+SHUFFLE	COMPRESS_BYTE_COUNT	1016883
+SHUFFLE	COPY_MAP_DATA	263902000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	931682
+SHUFFLE	COMPRESS_BYTE_COUNT	931686
+SHUFFLE	COPY_MAP_DATA	75092000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	969432
+SHUFFLE	COMPRESS_BYTE_COUNT	969436
+SHUFFLE	COPY_MAP_DATA	90593000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	943151
+SHUFFLE	COMPRESS_BYTE_COUNT	943155
+SHUFFLE	COPY_MAP_DATA	18455000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	890175
+SHUFFLE	COMPRESS_BYTE_COUNT	890179
+SHUFFLE	COPY_MAP_DATA	79711000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	917203
+SHUFFLE	COMPRESS_BYTE_COUNT	917207
+SHUFFLE	COPY_MAP_DATA	65155000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	915945
+SHUFFLE	COMPRESS_BYTE_COUNT	915949
+SHUFFLE	COPY_MAP_DATA	77039000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	940811
+SHUFFLE	COMPRESS_BYTE_COUNT	940815
+SHUFFLE	COPY_MAP_DATA	121834000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	929113
+SHUFFLE	COMPRESS_BYTE_COUNT	929117
+SHUFFLE	COPY_MAP_DATA	521293000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	955363
+SHUFFLE	COMPRESS_BYTE_COUNT	955367
+SHUFFLE	COPY_MAP_DATA	79244000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	892975
+SHUFFLE	COMPRESS_BYTE_COUNT	892979
+SHUFFLE	COPY_MAP_DATA	26888000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	893444
+SHUFFLE	COMPRESS_BYTE_COUNT	893448
+SHUFFLE	COPY_MAP_DATA	148995000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	923339
+SHUFFLE	COMPRESS_BYTE_COUNT	923343
+SHUFFLE	COPY_MAP_DATA	231781000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	908491
+SHUFFLE	COMPRESS_BYTE_COUNT	908495
+SHUFFLE	COPY_MAP_DATA	230616000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	909669
+SHUFFLE	COMPRESS_BYTE_COUNT	909673
+SHUFFLE	COPY_MAP_DATA	539921000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	891160
+SHUFFLE	COMPRESS_BYTE_COUNT	891164
+SHUFFLE	COPY_MAP_DATA	319481000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	924655
+SHUFFLE	COMPRESS_BYTE_COUNT	924659
+SHUFFLE	COPY_MAP_DATA	166128000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	878960
+SHUFFLE	COMPRESS_BYTE_COUNT	878964
+SHUFFLE	COPY_MAP_DATA	54167000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	941504
+SHUFFLE	COMPRESS_BYTE_COUNT	941508
+SHUFFLE	COPY_MAP_DATA	205147000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	921260
+SHUFFLE	COMPRESS_BYTE_COUNT	921264
+SHUFFLE	COPY_MAP_DATA	2489126887
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	879263
+SHUFFLE	COMPRESS_BYTE_COUNT	879267
+SHUFFLE	COPY_MAP_DATA	96358000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	867549
+SHUFFLE	COMPRESS_BYTE_COUNT	867553
+SHUFFLE	COPY_MAP_DATA	106314000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	873503
+SHUFFLE	COMPRESS_BYTE_COUNT	873507
+SHUFFLE	COPY_MAP_DATA	795735000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	896290
+SHUFFLE	COMPRESS_BYTE_COUNT	896294
+SHUFFLE	COPY_MAP_DATA	98610000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	896604
+SHUFFLE	COMPRESS_BYTE_COUNT	896608
+SHUFFLE	COPY_MAP_DATA	17637000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	935046
+SHUFFLE	COMPRESS_BYTE_COUNT	935050
+SHUFFLE	COPY_MAP_DATA	17588000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	898447
+SHUFFLE	COMPRESS_BYTE_COUNT	898451
+SHUFFLE	COPY_MAP_DATA	7635000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	898439
+SHUFFLE	COMPRESS_BYTE_COUNT	898443
+SHUFFLE	COPY_MAP_DATA	44755000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	809900
+SHUFFLE	COMPRESS_BYTE_COUNT	809904
+SHUFFLE	COPY_MAP_DATA	92997000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	862512
+SHUFFLE	COMPRESS_BYTE_COUNT	862516
+SHUFFLE	COPY_MAP_DATA	16901000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	845349
+SHUFFLE	COMPRESS_BYTE_COUNT	845353
+SHUFFLE	COPY_MAP_DATA	18068000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	834566
+SHUFFLE	COMPRESS_BYTE_COUNT	834570
+SHUFFLE	COPY_MAP_DATA	874851000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	947658
+SHUFFLE	COMPRESS_BYTE_COUNT	947662
+SHUFFLE	COPY_MAP_DATA	271796000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	925326
+SHUFFLE	COMPRESS_BYTE_COUNT	925330
+SHUFFLE	COPY_MAP_DATA	59291000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	838851
+SHUFFLE	COMPRESS_BYTE_COUNT	838855
+SHUFFLE	COPY_MAP_DATA	31800000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	881467
+SHUFFLE	COMPRESS_BYTE_COUNT	881471
+SHUFFLE	COPY_MAP_DATA	112977000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	893608
+SHUFFLE	COMPRESS_BYTE_COUNT	893612
+SHUFFLE	COPY_MAP_DATA	1561209000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	950374
+SHUFFLE	COMPRESS_BYTE_COUNT	950378
+SHUFFLE	COPY_MAP_DATA	42120000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	881195
+SHUFFLE	COMPRESS_BYTE_COUNT	881199
+SHUFFLE	COPY_MAP_DATA	63438000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	857050
+SHUFFLE	COMPRESS_BYTE_COUNT	857054
+SHUFFLE	COPY_MAP_DATA	39416000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	807099
+SHUFFLE	COMPRESS_BYTE_COUNT	807103
+SHUFFLE	COPY_MAP_DATA	34264000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	797141
+SHUFFLE	COMPRESS_BYTE_COUNT	797145
+SHUFFLE	COPY_MAP_DATA	65898000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	848225
+SHUFFLE	COMPRESS_BYTE_COUNT	848229
+SHUFFLE	COPY_MAP_DATA	83437000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	946108
+SHUFFLE	COMPRESS_BYTE_COUNT	946112
+SHUFFLE	COPY_MAP_DATA	41119000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	799048
+SHUFFLE	COMPRESS_BYTE_COUNT	799052
+SHUFFLE	COPY_MAP_DATA	250960000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	810131
+SHUFFLE	COMPRESS_BYTE_COUNT	810135
+SHUFFLE	COPY_MAP_DATA	117766000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	782853
+SHUFFLE	COMPRESS_BYTE_COUNT	782857
+SHUFFLE	COPY_MAP_DATA	12775000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	820770
+SHUFFLE	COMPRESS_BYTE_COUNT	820774
+SHUFFLE	COPY_MAP_DATA	145695000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	864952
+SHUFFLE	COMPRESS_BYTE_COUNT	864956
+SHUFFLE	COPY_MAP_DATA	258173000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	997799
+SHUFFLE	COMPRESS_BYTE_COUNT	997803
+SHUFFLE	COPY_MAP_DATA	310209000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	864936
+SHUFFLE	COMPRESS_BYTE_COUNT	864940
+SHUFFLE	COPY_MAP_DATA	251700000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	837781
+SHUFFLE	COMPRESS_BYTE_COUNT	837785
+SHUFFLE	COPY_MAP_DATA	183201000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	833215
+SHUFFLE	COMPRESS_BYTE_COUNT	833219
+SHUFFLE	COPY_MAP_DATA	288928000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	866802
+SHUFFLE	COMPRESS_BYTE_COUNT	866806
+SHUFFLE	COPY_MAP_DATA	173334000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	937441
+SHUFFLE	COMPRESS_BYTE_COUNT	937445
+SHUFFLE	COPY_MAP_DATA	16472000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	750335
+SHUFFLE	COMPRESS_BYTE_COUNT	750339
+SHUFFLE	COPY_MAP_DATA	75130000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	835191
+SHUFFLE	COMPRESS_BYTE_COUNT	835195
+SHUFFLE	COPY_MAP_DATA	284869000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	853197
+SHUFFLE	COMPRESS_BYTE_COUNT	853201
+SHUFFLE	COPY_MAP_DATA	788274000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	849839
+SHUFFLE	COMPRESS_BYTE_COUNT	849843
+SHUFFLE	COPY_MAP_DATA	21324000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	799635
+SHUFFLE	COMPRESS_BYTE_COUNT	799639
+SHUFFLE	COPY_MAP_DATA	16542000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	801927
+SHUFFLE	COMPRESS_BYTE_COUNT	801931
+SHUFFLE	COPY_MAP_DATA	7486000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	836539
+SHUFFLE	COMPRESS_BYTE_COUNT	836543
+SHUFFLE	COPY_MAP_DATA	36662000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	949950
+SHUFFLE	COMPRESS_BYTE_COUNT	949954
+SHUFFLE	COPY_MAP_DATA	17844000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	882467
+SHUFFLE	COMPRESS_BYTE_COUNT	882471
+SHUFFLE	COPY_MAP_DATA	1386474000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	794491
+SHUFFLE	COMPRESS_BYTE_COUNT	794495
+SHUFFLE	COPY_MAP_DATA	73683000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	790569
+SHUFFLE	COMPRESS_BYTE_COUNT	790573
+SHUFFLE	COPY_MAP_DATA	9362000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	801367
+SHUFFLE	COMPRESS_BYTE_COUNT	801371
+SHUFFLE	COPY_MAP_DATA	186076000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	857686
+SHUFFLE	COMPRESS_BYTE_COUNT	857690
+SHUFFLE	COPY_MAP_DATA	16148000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	843245
+SHUFFLE	COMPRESS_BYTE_COUNT	843249
+SHUFFLE	COPY_MAP_DATA	23283000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	798230
+SHUFFLE	COMPRESS_BYTE_COUNT	798234
+SHUFFLE	COPY_MAP_DATA	23894000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	843959
+SHUFFLE	COMPRESS_BYTE_COUNT	843963
+SHUFFLE	COPY_MAP_DATA	17083000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	775255
+SHUFFLE	COMPRESS_BYTE_COUNT	775259
+SHUFFLE	COPY_MAP_DATA	68106000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	812551
+SHUFFLE	COMPRESS_BYTE_COUNT	812555
+SHUFFLE	COPY_MAP_DATA	15532000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	753652
+SHUFFLE	COMPRESS_BYTE_COUNT	753656
+SHUFFLE	COPY_MAP_DATA	13298000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	771039
+SHUFFLE	COMPRESS_BYTE_COUNT	771043
+SHUFFLE	COPY_MAP_DATA	13968000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	832757
+SHUFFLE	COMPRESS_BYTE_COUNT	832761
+SHUFFLE	COPY_MAP_DATA	71644000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	793756
+SHUFFLE	COMPRESS_BYTE_COUNT	793760
+SHUFFLE	COPY_MAP_DATA	58094000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1151935
+SHUFFLE	COMPRESS_BYTE_COUNT	1151939
+SHUFFLE	COPY_MAP_DATA	489443000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1057587
+SHUFFLE	COMPRESS_BYTE_COUNT	1057591
+SHUFFLE	COPY_MAP_DATA	18720000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	781180
+SHUFFLE	COMPRESS_BYTE_COUNT	781184
+SHUFFLE	COPY_MAP_DATA	136734000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	823114
+SHUFFLE	COMPRESS_BYTE_COUNT	823118
+SHUFFLE	COPY_MAP_DATA	37666000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	813457
+SHUFFLE	COMPRESS_BYTE_COUNT	813461
+SHUFFLE	COPY_MAP_DATA	53471000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	949711
+SHUFFLE	COMPRESS_BYTE_COUNT	949715
+SHUFFLE	COPY_MAP_DATA	45159000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	773395
+SHUFFLE	COMPRESS_BYTE_COUNT	773399
+SHUFFLE	COPY_MAP_DATA	16376000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	776292
+SHUFFLE	COMPRESS_BYTE_COUNT	776296
+SHUFFLE	COPY_MAP_DATA	15366000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	775355
+SHUFFLE	COMPRESS_BYTE_COUNT	775359
+SHUFFLE	COPY_MAP_DATA	16025000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	726136
+SHUFFLE	COMPRESS_BYTE_COUNT	726140
+SHUFFLE	COPY_MAP_DATA	149008000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	738021
+SHUFFLE	COMPRESS_BYTE_COUNT	738025
+SHUFFLE	COPY_MAP_DATA	33629000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	765068
+SHUFFLE	COMPRESS_BYTE_COUNT	765072
+SHUFFLE	COPY_MAP_DATA	79674000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	864391
+SHUFFLE	COMPRESS_BYTE_COUNT	864395
+SHUFFLE	COPY_MAP_DATA	16483000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	787231
+SHUFFLE	COMPRESS_BYTE_COUNT	787235
+SHUFFLE	COPY_MAP_DATA	523937000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	813760
+SHUFFLE	COMPRESS_BYTE_COUNT	813764
+SHUFFLE	COPY_MAP_DATA	17779000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	746417
+SHUFFLE	COMPRESS_BYTE_COUNT	746421
+SHUFFLE	COPY_MAP_DATA	16120000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	801683
+SHUFFLE	COMPRESS_BYTE_COUNT	801687
+SHUFFLE	COPY_MAP_DATA	2682227000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	838215
+SHUFFLE	COMPRESS_BYTE_COUNT	838219
+SHUFFLE	COPY_MAP_DATA	10968000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	926747
+SHUFFLE	COMPRESS_BYTE_COUNT	926751
+SHUFFLE	COPY_MAP_DATA	115573000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	852423
+SHUFFLE	COMPRESS_BYTE_COUNT	852427
+SHUFFLE	COPY_MAP_DATA	27191000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	781713
+SHUFFLE	COMPRESS_BYTE_COUNT	781717
+SHUFFLE	COPY_MAP_DATA	116310000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	775163
+SHUFFLE	COMPRESS_BYTE_COUNT	775167
+SHUFFLE	COPY_MAP_DATA	1784575000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	813422
+SHUFFLE	COMPRESS_BYTE_COUNT	813426
+SHUFFLE	COPY_MAP_DATA	15125000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	772304
+SHUFFLE	COMPRESS_BYTE_COUNT	772308
+SHUFFLE	COPY_MAP_DATA	1374670126
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	854319
+SHUFFLE	COMPRESS_BYTE_COUNT	854323
+SHUFFLE	COPY_MAP_DATA	18625000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	807911
+SHUFFLE	COMPRESS_BYTE_COUNT	807915
+SHUFFLE	COPY_MAP_DATA	176428000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	903111
+SHUFFLE	COMPRESS_BYTE_COUNT	903115
+SHUFFLE	COPY_MAP_DATA	53593000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	903092
+SHUFFLE	COMPRESS_BYTE_COUNT	903096
+SHUFFLE	COPY_MAP_DATA	24049000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	731762
+SHUFFLE	COMPRESS_BYTE_COUNT	731766
+SHUFFLE	COPY_MAP_DATA	44489000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	818057
+SHUFFLE	COMPRESS_BYTE_COUNT	818061
+SHUFFLE	COPY_MAP_DATA	6656385000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	760283
+SHUFFLE	COMPRESS_BYTE_COUNT	760287
+SHUFFLE	COPY_MAP_DATA	157071000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	714412
+SHUFFLE	COMPRESS_BYTE_COUNT	714416
+SHUFFLE	COPY_MAP_DATA	155508000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	907566
+SHUFFLE	COMPRESS_BYTE_COUNT	907570
+SHUFFLE	COPY_MAP_DATA	282541000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	845870
+SHUFFLE	COMPRESS_BYTE_COUNT	845874
+SHUFFLE	COPY_MAP_DATA	35139000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	808175
+SHUFFLE	COMPRESS_BYTE_COUNT	808179
+SHUFFLE	COPY_MAP_DATA	4418966000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	967931
+SHUFFLE	COMPRESS_BYTE_COUNT	967935
+SHUFFLE	COPY_MAP_DATA	1001196000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	825507
+SHUFFLE	COMPRESS_BYTE_COUNT	825511
+SHUFFLE	COPY_MAP_DATA	55420000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	759357
+SHUFFLE	COMPRESS_BYTE_COUNT	759361
+SHUFFLE	COPY_MAP_DATA	17750000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	781033
+SHUFFLE	COMPRESS_BYTE_COUNT	781037
+SHUFFLE	COPY_MAP_DATA	43228000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	835755
+SHUFFLE	COMPRESS_BYTE_COUNT	835759
+SHUFFLE	COPY_MAP_DATA	27297000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	731762
+SHUFFLE	COMPRESS_BYTE_COUNT	731766
+SHUFFLE	COPY_MAP_DATA	25375000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	757493
+SHUFFLE	COMPRESS_BYTE_COUNT	757497
+SHUFFLE	COPY_MAP_DATA	236763000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	882590
+SHUFFLE	COMPRESS_BYTE_COUNT	882594
+SHUFFLE	COPY_MAP_DATA	8580000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	874257
+SHUFFLE	COMPRESS_BYTE_COUNT	874261
+SHUFFLE	COPY_MAP_DATA	105644000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	769712
+SHUFFLE	COMPRESS_BYTE_COUNT	769716
+SHUFFLE	COPY_MAP_DATA	600812000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	806183
+SHUFFLE	COMPRESS_BYTE_COUNT	806187
+SHUFFLE	COPY_MAP_DATA	494031000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	875460
+SHUFFLE	COMPRESS_BYTE_COUNT	875464
+SHUFFLE	COPY_MAP_DATA	18876000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	823579
+SHUFFLE	COMPRESS_BYTE_COUNT	823583
+SHUFFLE	COPY_MAP_DATA	9000000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	865890
+SHUFFLE	COMPRESS_BYTE_COUNT	865894
+SHUFFLE	COPY_MAP_DATA	17691000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	760786
+SHUFFLE	COMPRESS_BYTE_COUNT	760790
+SHUFFLE	COPY_MAP_DATA	15954000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	866460
+SHUFFLE	COMPRESS_BYTE_COUNT	866464
+SHUFFLE	COPY_MAP_DATA	17387000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	712034
+SHUFFLE	COMPRESS_BYTE_COUNT	712038
+SHUFFLE	COPY_MAP_DATA	19233000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	833946
+SHUFFLE	COMPRESS_BYTE_COUNT	833950
+SHUFFLE	COPY_MAP_DATA	15932000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	825659
+SHUFFLE	COMPRESS_BYTE_COUNT	825663
+SHUFFLE	COPY_MAP_DATA	16839000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	801873
+SHUFFLE	COMPRESS_BYTE_COUNT	801877
+SHUFFLE	COPY_MAP_DATA	15714000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	760953
+SHUFFLE	COMPRESS_BYTE_COUNT	760957
+SHUFFLE	COPY_MAP_DATA	15600000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	725634
+SHUFFLE	COMPRESS_BYTE_COUNT	725638
+SHUFFLE	COPY_MAP_DATA	14945000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1000013
+SHUFFLE	COMPRESS_BYTE_COUNT	1000017
+SHUFFLE	COPY_MAP_DATA	35572000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	804328
+SHUFFLE	COMPRESS_BYTE_COUNT	804332
+SHUFFLE	COPY_MAP_DATA	17077000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	656280
+SHUFFLE	COMPRESS_BYTE_COUNT	656284
+SHUFFLE	COPY_MAP_DATA	33648000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	735518
+SHUFFLE	COMPRESS_BYTE_COUNT	735522
+SHUFFLE	COPY_MAP_DATA	14811000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	774244
+SHUFFLE	COMPRESS_BYTE_COUNT	774248
+SHUFFLE	COPY_MAP_DATA	14678000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	946938
+SHUFFLE	COMPRESS_BYTE_COUNT	946942
+SHUFFLE	COPY_MAP_DATA	20525000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	960773
+SHUFFLE	COMPRESS_BYTE_COUNT	960777
+SHUFFLE	COPY_MAP_DATA	19107000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	861416
+SHUFFLE	COMPRESS_BYTE_COUNT	861420
+SHUFFLE	COPY_MAP_DATA	16425000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	915561
+SHUFFLE	COMPRESS_BYTE_COUNT	915565
+SHUFFLE	COPY_MAP_DATA	17870000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	772685
+SHUFFLE	COMPRESS_BYTE_COUNT	772689
+SHUFFLE	COPY_MAP_DATA	15376000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	82280207927
+MERGE	READ_WRITE	81200812927
+MERGE	READ_WRITE_COUNT	2
+MERGE	COMBINE	0
+MERGE	WRITE	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	17450637000
+SORT	READ_WRITE	17149199000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	131343408
+REDUCE	SETUP	309000
+REDUCE	SETUP_MEM	131343408
+REDUCE	CLEANUP	38000
+REDUCE	CLEANUP_MEM	184226312
+REDUCE	TOTAL_RUN	122138857211
+REDUCE	READ	10436317000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	102893643211
+REDUCE	WRITE	33744340000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	73357639
+REDUCE	VALUE_BYTE_COUNT	66364249
+REDUCE	REDUCE_MEM	184228360
+REDUCE	WRITE	10413000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	677221479851
@@ -0,0 +1,1333 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1814270
+SHUFFLE	COMPRESS_BYTE_COUNT	1814274
+SHUFFLE	COPY_MAP_DATA	85940000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1980544
+SHUFFLE	COMPRESS_BYTE_COUNT	1980548
+SHUFFLE	COPY_MAP_DATA	26651000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1898505
+SHUFFLE	COMPRESS_BYTE_COUNT	1898509
+SHUFFLE	COPY_MAP_DATA	151771000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2030054
+SHUFFLE	COMPRESS_BYTE_COUNT	2030058
+SHUFFLE	COPY_MAP_DATA	90277000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1985645
+SHUFFLE	COMPRESS_BYTE_COUNT	1985649
+SHUFFLE	COPY_MAP_DATA	296932000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1929404
+SHUFFLE	COMPRESS_BYTE_COUNT	1929408
+SHUFFLE	COPY_MAP_DATA	27980000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1851137
+SHUFFLE	COMPRESS_BYTE_COUNT	1851141
+SHUFFLE	COPY_MAP_DATA	116022000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1807328
+SHUFFLE	COMPRESS_BYTE_COUNT	1807332
+SHUFFLE	COPY_MAP_DATA	182222000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1902861
+SHUFFLE	COMPRESS_BYTE_COUNT	1902865
+SHUFFLE	COPY_MAP_DATA	32058000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1937637
+SHUFFLE	COMPRESS_BYTE_COUNT	1937641
+SHUFFLE	COPY_MAP_DATA	65849000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1766385
+SHUFFLE	COMPRESS_BYTE_COUNT	1766389
+SHUFFLE	COPY_MAP_DATA	25304000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1947355
+SHUFFLE	COMPRESS_BYTE_COUNT	1947359
+SHUFFLE	COPY_MAP_DATA	33492000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2059690
+SHUFFLE	COMPRESS_BYTE_COUNT	2059694
+SHUFFLE	COPY_MAP_DATA	28445000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1974288
+SHUFFLE	COMPRESS_BYTE_COUNT	1974292
+SHUFFLE	COPY_MAP_DATA	35156000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1694086
+SHUFFLE	COMPRESS_BYTE_COUNT	1694090
+SHUFFLE	COPY_MAP_DATA	70875000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1983496
+SHUFFLE	COMPRESS_BYTE_COUNT	1983500
+SHUFFLE	COPY_MAP_DATA	2158337000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1886881
+SHUFFLE	COMPRESS_BYTE_COUNT	1886885
+SHUFFLE	COPY_MAP_DATA	71757000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1896753
+SHUFFLE	COMPRESS_BYTE_COUNT	1896757
+SHUFFLE	COPY_MAP_DATA	67786000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2075474
+SHUFFLE	COMPRESS_BYTE_COUNT	2075478
+SHUFFLE	COPY_MAP_DATA	76110000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1934185
+SHUFFLE	COMPRESS_BYTE_COUNT	1934189
+SHUFFLE	COPY_MAP_DATA	24397000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1949844
+SHUFFLE	COMPRESS_BYTE_COUNT	1949848
+SHUFFLE	COPY_MAP_DATA	22055000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1973583
+SHUFFLE	COMPRESS_BYTE_COUNT	1973587
+SHUFFLE	COPY_MAP_DATA	23492000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2075724
+SHUFFLE	COMPRESS_BYTE_COUNT	2075728
+SHUFFLE	COPY_MAP_DATA	82156000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1956690
+SHUFFLE	COMPRESS_BYTE_COUNT	1956694
+SHUFFLE	COPY_MAP_DATA	1638905000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1788605
+SHUFFLE	COMPRESS_BYTE_COUNT	1788609
+SHUFFLE	COPY_MAP_DATA	95470000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2050289
+SHUFFLE	COMPRESS_BYTE_COUNT	2050293
+SHUFFLE	COPY_MAP_DATA	40131000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1853521
+SHUFFLE	COMPRESS_BYTE_COUNT	1853525
+SHUFFLE	COPY_MAP_DATA	394710000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2094182
+SHUFFLE	COMPRESS_BYTE_COUNT	2094186
+SHUFFLE	COPY_MAP_DATA	296319000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1983416
+SHUFFLE	COMPRESS_BYTE_COUNT	1983420
+SHUFFLE	COPY_MAP_DATA	165916000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1884872
+SHUFFLE	COMPRESS_BYTE_COUNT	1884876
+SHUFFLE	COPY_MAP_DATA	43626000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1893449
+SHUFFLE	COMPRESS_BYTE_COUNT	1893453
+SHUFFLE	COPY_MAP_DATA	324314000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1944263
+SHUFFLE	COMPRESS_BYTE_COUNT	1944267
+SHUFFLE	COPY_MAP_DATA	7839825000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2037506
+SHUFFLE	COMPRESS_BYTE_COUNT	2037510
+SHUFFLE	COPY_MAP_DATA	134512000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1780232
+SHUFFLE	COMPRESS_BYTE_COUNT	1780236
+SHUFFLE	COPY_MAP_DATA	40363000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1749403
+SHUFFLE	COMPRESS_BYTE_COUNT	1749407
+SHUFFLE	COPY_MAP_DATA	127306000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1830463
+SHUFFLE	COMPRESS_BYTE_COUNT	1830467
+SHUFFLE	COPY_MAP_DATA	1175459000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1926050
+SHUFFLE	COMPRESS_BYTE_COUNT	1926054
+SHUFFLE	COPY_MAP_DATA	3377687000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1914854
+SHUFFLE	COMPRESS_BYTE_COUNT	1914858
+SHUFFLE	COPY_MAP_DATA	163021000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1592139
+SHUFFLE	COMPRESS_BYTE_COUNT	1592143
+SHUFFLE	COPY_MAP_DATA	42260000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1647807
+SHUFFLE	COMPRESS_BYTE_COUNT	1647811
+SHUFFLE	COPY_MAP_DATA	250452000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1979024
+SHUFFLE	COMPRESS_BYTE_COUNT	1979028
+SHUFFLE	COPY_MAP_DATA	44367000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1816098
+SHUFFLE	COMPRESS_BYTE_COUNT	1816102
+SHUFFLE	COPY_MAP_DATA	142804000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1823592
+SHUFFLE	COMPRESS_BYTE_COUNT	1823596
+SHUFFLE	COPY_MAP_DATA	449116000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1982287
+SHUFFLE	COMPRESS_BYTE_COUNT	1982291
+SHUFFLE	COPY_MAP_DATA	31991000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1761919
+SHUFFLE	COMPRESS_BYTE_COUNT	1761923
+SHUFFLE	COPY_MAP_DATA	34397000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1908402
+SHUFFLE	COMPRESS_BYTE_COUNT	1908406
+SHUFFLE	COPY_MAP_DATA	1470766000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1893576
+SHUFFLE	COMPRESS_BYTE_COUNT	1893580
+SHUFFLE	COPY_MAP_DATA	245558000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1794699
+SHUFFLE	COMPRESS_BYTE_COUNT	1794703
+SHUFFLE	COPY_MAP_DATA	89581000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1760144
+SHUFFLE	COMPRESS_BYTE_COUNT	1760148
+SHUFFLE	COPY_MAP_DATA	90654000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1574013
+SHUFFLE	COMPRESS_BYTE_COUNT	1574017
+SHUFFLE	COPY_MAP_DATA	51099000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1738204
+SHUFFLE	COMPRESS_BYTE_COUNT	1738208
+SHUFFLE	COPY_MAP_DATA	297045000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1643918
+SHUFFLE	COMPRESS_BYTE_COUNT	1643922
+SHUFFLE	COPY_MAP_DATA	166639000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1956833
+SHUFFLE	COMPRESS_BYTE_COUNT	1956837
+SHUFFLE	COPY_MAP_DATA	123508000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1719003
+SHUFFLE	COMPRESS_BYTE_COUNT	1719007
+SHUFFLE	COPY_MAP_DATA	510144000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1616592
+SHUFFLE	COMPRESS_BYTE_COUNT	1616596
+SHUFFLE	COPY_MAP_DATA	199612000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1821225
+SHUFFLE	COMPRESS_BYTE_COUNT	1821229
+SHUFFLE	COPY_MAP_DATA	39699000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1751198
+SHUFFLE	COMPRESS_BYTE_COUNT	1751202
+SHUFFLE	COPY_MAP_DATA	2900659000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1832421
+SHUFFLE	COMPRESS_BYTE_COUNT	1832425
+SHUFFLE	COPY_MAP_DATA	45524000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2025588
+SHUFFLE	COMPRESS_BYTE_COUNT	2025592
+SHUFFLE	COPY_MAP_DATA	80625000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1680381
+SHUFFLE	COMPRESS_BYTE_COUNT	1680385
+SHUFFLE	COPY_MAP_DATA	30438000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1552165
+SHUFFLE	COMPRESS_BYTE_COUNT	1552169
+SHUFFLE	COPY_MAP_DATA	21200000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1443936
+SHUFFLE	COMPRESS_BYTE_COUNT	1443940
+SHUFFLE	COPY_MAP_DATA	1977750000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1984128
+SHUFFLE	COMPRESS_BYTE_COUNT	1984132
+SHUFFLE	COPY_MAP_DATA	450615000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1908352
+SHUFFLE	COMPRESS_BYTE_COUNT	1908356
+SHUFFLE	COPY_MAP_DATA	922682000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1592918
+SHUFFLE	COMPRESS_BYTE_COUNT	1592922
+SHUFFLE	COPY_MAP_DATA	245679000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1738293
+SHUFFLE	COMPRESS_BYTE_COUNT	1738297
+SHUFFLE	COPY_MAP_DATA	342005000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1577291
+SHUFFLE	COMPRESS_BYTE_COUNT	1577295
+SHUFFLE	COPY_MAP_DATA	32058000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1658253
+SHUFFLE	COMPRESS_BYTE_COUNT	1658257
+SHUFFLE	COPY_MAP_DATA	1045622000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1844412
+SHUFFLE	COMPRESS_BYTE_COUNT	1844416
+SHUFFLE	COPY_MAP_DATA	238204000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1666086
+SHUFFLE	COMPRESS_BYTE_COUNT	1666090
+SHUFFLE	COPY_MAP_DATA	181655000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1644537
+SHUFFLE	COMPRESS_BYTE_COUNT	1644541
+SHUFFLE	COPY_MAP_DATA	692228000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1631839
+SHUFFLE	COMPRESS_BYTE_COUNT	1631843
+SHUFFLE	COPY_MAP_DATA	47922000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1861912
+SHUFFLE	COMPRESS_BYTE_COUNT	1861916
+SHUFFLE	COPY_MAP_DATA	223717000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1994361
+SHUFFLE	COMPRESS_BYTE_COUNT	1994365
+SHUFFLE	COPY_MAP_DATA	155822000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1602271
+SHUFFLE	COMPRESS_BYTE_COUNT	1602275
+SHUFFLE	COPY_MAP_DATA	54076000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1750037
+SHUFFLE	COMPRESS_BYTE_COUNT	1750041
+SHUFFLE	COPY_MAP_DATA	25584000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1634924
+SHUFFLE	COMPRESS_BYTE_COUNT	1634928
+SHUFFLE	COPY_MAP_DATA	6851181000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1588236
+SHUFFLE	COMPRESS_BYTE_COUNT	1588240
+SHUFFLE	COPY_MAP_DATA	111193000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1533267
+SHUFFLE	COMPRESS_BYTE_COUNT	1533271
+SHUFFLE	COPY_MAP_DATA	29746000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1805227
+SHUFFLE	COMPRESS_BYTE_COUNT	1805231
+SHUFFLE	COPY_MAP_DATA	995570000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1787041
+SHUFFLE	COMPRESS_BYTE_COUNT	1787045
+SHUFFLE	COPY_MAP_DATA	458623000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1567859
+SHUFFLE	COMPRESS_BYTE_COUNT	1567863
+SHUFFLE	COPY_MAP_DATA	24442000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1804624
+SHUFFLE	COMPRESS_BYTE_COUNT	1804628
+SHUFFLE	COPY_MAP_DATA	720033000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1659830
+SHUFFLE	COMPRESS_BYTE_COUNT	1659834
+SHUFFLE	COPY_MAP_DATA	276929000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1887219
+SHUFFLE	COMPRESS_BYTE_COUNT	1887223
+SHUFFLE	COPY_MAP_DATA	137184000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1538812
+SHUFFLE	COMPRESS_BYTE_COUNT	1538816
+SHUFFLE	COPY_MAP_DATA	221521000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1718417
+SHUFFLE	COMPRESS_BYTE_COUNT	1718421
+SHUFFLE	COPY_MAP_DATA	5634088000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1450210
+SHUFFLE	COMPRESS_BYTE_COUNT	1450214
+SHUFFLE	COPY_MAP_DATA	384694000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	806870
+SHUFFLE	COMPRESS_BYTE_COUNT	806874
+SHUFFLE	COPY_MAP_DATA	3202050000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1759721
+SHUFFLE	COMPRESS_BYTE_COUNT	1759725
+SHUFFLE	COPY_MAP_DATA	22662000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	919509
+SHUFFLE	COMPRESS_BYTE_COUNT	919513
+SHUFFLE	COPY_MAP_DATA	77212000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1574689
+SHUFFLE	COMPRESS_BYTE_COUNT	1574693
+SHUFFLE	COPY_MAP_DATA	122777000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1636109
+SHUFFLE	COMPRESS_BYTE_COUNT	1636113
+SHUFFLE	COPY_MAP_DATA	109592000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1431100
+SHUFFLE	COMPRESS_BYTE_COUNT	1431104
+SHUFFLE	COPY_MAP_DATA	87043000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	887218
+SHUFFLE	COMPRESS_BYTE_COUNT	887222
+SHUFFLE	COPY_MAP_DATA	188604000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1796878
+SHUFFLE	COMPRESS_BYTE_COUNT	1796882
+SHUFFLE	COPY_MAP_DATA	98006000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	846878
+SHUFFLE	COMPRESS_BYTE_COUNT	846882
+SHUFFLE	COPY_MAP_DATA	17995000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1006791
+SHUFFLE	COMPRESS_BYTE_COUNT	1006795
+SHUFFLE	COPY_MAP_DATA	9371000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1032310
+SHUFFLE	COMPRESS_BYTE_COUNT	1032314
+SHUFFLE	COPY_MAP_DATA	26102000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1415235
+SHUFFLE	COMPRESS_BYTE_COUNT	1415239
+SHUFFLE	COPY_MAP_DATA	121227000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	999415
+SHUFFLE	COMPRESS_BYTE_COUNT	999419
+SHUFFLE	COPY_MAP_DATA	18196000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1687037
+SHUFFLE	COMPRESS_BYTE_COUNT	1687041
+SHUFFLE	COPY_MAP_DATA	29566000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2023284
+SHUFFLE	COMPRESS_BYTE_COUNT	2023288
+SHUFFLE	COPY_MAP_DATA	175774000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1637534
+SHUFFLE	COMPRESS_BYTE_COUNT	1637538
+SHUFFLE	COPY_MAP_DATA	53985000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2125073
+SHUFFLE	COMPRESS_BYTE_COUNT	2125077
+SHUFFLE	COPY_MAP_DATA	96546000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1923697
+SHUFFLE	COMPRESS_BYTE_COUNT	1923701
+SHUFFLE	COPY_MAP_DATA	156820000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1804307
+SHUFFLE	COMPRESS_BYTE_COUNT	1804311
+SHUFFLE	COPY_MAP_DATA	138413000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1587098
+SHUFFLE	COMPRESS_BYTE_COUNT	1587102
+SHUFFLE	COPY_MAP_DATA	568280000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1080654
+SHUFFLE	COMPRESS_BYTE_COUNT	1080658
+SHUFFLE	COPY_MAP_DATA	38386000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1626597
+SHUFFLE	COMPRESS_BYTE_COUNT	1626601
+SHUFFLE	COPY_MAP_DATA	23275000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	962225
+SHUFFLE	COMPRESS_BYTE_COUNT	962229
+SHUFFLE	COPY_MAP_DATA	18174000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1549856
+SHUFFLE	COMPRESS_BYTE_COUNT	1549860
+SHUFFLE	COPY_MAP_DATA	15821000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1011360
+SHUFFLE	COMPRESS_BYTE_COUNT	1011364
+SHUFFLE	COPY_MAP_DATA	2136770000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2000624
+SHUFFLE	COMPRESS_BYTE_COUNT	2000628
+SHUFFLE	COPY_MAP_DATA	176521000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	949402
+SHUFFLE	COMPRESS_BYTE_COUNT	949406
+SHUFFLE	COPY_MAP_DATA	123492000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1337757
+SHUFFLE	COMPRESS_BYTE_COUNT	1337761
+SHUFFLE	COPY_MAP_DATA	35194000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1043166
+SHUFFLE	COMPRESS_BYTE_COUNT	1043170
+SHUFFLE	COPY_MAP_DATA	24922000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	963131
+SHUFFLE	COMPRESS_BYTE_COUNT	963135
+SHUFFLE	COPY_MAP_DATA	10074000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1669591
+SHUFFLE	COMPRESS_BYTE_COUNT	1669595
+SHUFFLE	COPY_MAP_DATA	610787000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1783239
+SHUFFLE	COMPRESS_BYTE_COUNT	1783243
+SHUFFLE	COPY_MAP_DATA	95609000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	982278
+SHUFFLE	COMPRESS_BYTE_COUNT	982282
+SHUFFLE	COPY_MAP_DATA	8954000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	989619
+SHUFFLE	COMPRESS_BYTE_COUNT	989623
+SHUFFLE	COPY_MAP_DATA	1085004000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1003957
+SHUFFLE	COMPRESS_BYTE_COUNT	1003961
+SHUFFLE	COPY_MAP_DATA	1507641000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	969642
+SHUFFLE	COMPRESS_BYTE_COUNT	969646
+SHUFFLE	COPY_MAP_DATA	17138000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1060672
+SHUFFLE	COMPRESS_BYTE_COUNT	1060676
+SHUFFLE	COPY_MAP_DATA	118571000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	846732
+SHUFFLE	COMPRESS_BYTE_COUNT	846736
+SHUFFLE	COPY_MAP_DATA	17384000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	931783
+SHUFFLE	COMPRESS_BYTE_COUNT	931787
+SHUFFLE	COPY_MAP_DATA	789488000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	957949
+SHUFFLE	COMPRESS_BYTE_COUNT	957953
+SHUFFLE	COPY_MAP_DATA	54159000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	980848
+SHUFFLE	COMPRESS_BYTE_COUNT	980852
+SHUFFLE	COPY_MAP_DATA	18928000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	980772
+SHUFFLE	COMPRESS_BYTE_COUNT	980776
+SHUFFLE	COPY_MAP_DATA	198198000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	966724
+SHUFFLE	COMPRESS_BYTE_COUNT	966728
+SHUFFLE	COPY_MAP_DATA	17198000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	995915
+SHUFFLE	COMPRESS_BYTE_COUNT	995919
+SHUFFLE	COPY_MAP_DATA	19270000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	984083
+SHUFFLE	COMPRESS_BYTE_COUNT	984087
+SHUFFLE	COPY_MAP_DATA	271900000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	922762
+SHUFFLE	COMPRESS_BYTE_COUNT	922766
+SHUFFLE	COPY_MAP_DATA	1576236000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1004044
+SHUFFLE	COMPRESS_BYTE_COUNT	1004048
+SHUFFLE	COPY_MAP_DATA	123846000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	993518
+SHUFFLE	COMPRESS_BYTE_COUNT	993522
+SHUFFLE	COPY_MAP_DATA	18308000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	888008
+SHUFFLE	COMPRESS_BYTE_COUNT	888012
+SHUFFLE	COPY_MAP_DATA	17531000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1534702
+SHUFFLE	COMPRESS_BYTE_COUNT	1534706
+SHUFFLE	COPY_MAP_DATA	13564624000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	989408
+SHUFFLE	COMPRESS_BYTE_COUNT	989412
+SHUFFLE	COPY_MAP_DATA	32719000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	986307
+SHUFFLE	COMPRESS_BYTE_COUNT	986311
+SHUFFLE	COPY_MAP_DATA	23215000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1003369
+SHUFFLE	COMPRESS_BYTE_COUNT	1003373
+SHUFFLE	COPY_MAP_DATA	38413000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	963417
+SHUFFLE	COMPRESS_BYTE_COUNT	963421
+SHUFFLE	COPY_MAP_DATA	150728000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	979374
+SHUFFLE	COMPRESS_BYTE_COUNT	979378
+SHUFFLE	COPY_MAP_DATA	32240000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	954706
+SHUFFLE	COMPRESS_BYTE_COUNT	954710
+SHUFFLE	COPY_MAP_DATA	606725000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1090227
+SHUFFLE	COMPRESS_BYTE_COUNT	1090231
+SHUFFLE	COPY_MAP_DATA	82983000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	952291
+SHUFFLE	COMPRESS_BYTE_COUNT	952295
+SHUFFLE	COPY_MAP_DATA	10691000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1003762
+SHUFFLE	COMPRESS_BYTE_COUNT	1003766
+SHUFFLE	COPY_MAP_DATA	549406000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	982607
+SHUFFLE	COMPRESS_BYTE_COUNT	982611
+SHUFFLE	COPY_MAP_DATA	1152005000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	977542
+SHUFFLE	COMPRESS_BYTE_COUNT	977546
+SHUFFLE	COPY_MAP_DATA	22917000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	969910
+SHUFFLE	COMPRESS_BYTE_COUNT	969914
+SHUFFLE	COPY_MAP_DATA	66583000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1079811
+SHUFFLE	COMPRESS_BYTE_COUNT	1079815
+SHUFFLE	COPY_MAP_DATA	1127985000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1073385
+SHUFFLE	COMPRESS_BYTE_COUNT	1073389
+SHUFFLE	COPY_MAP_DATA	89689000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	986782
+SHUFFLE	COMPRESS_BYTE_COUNT	986786
+SHUFFLE	COPY_MAP_DATA	2035576000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	925152
+SHUFFLE	COMPRESS_BYTE_COUNT	925156
+SHUFFLE	COPY_MAP_DATA	17926000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	917984
+SHUFFLE	COMPRESS_BYTE_COUNT	917988
+SHUFFLE	COPY_MAP_DATA	40764000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	959764
+SHUFFLE	COMPRESS_BYTE_COUNT	959768
+SHUFFLE	COPY_MAP_DATA	15109000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	977626
+SHUFFLE	COMPRESS_BYTE_COUNT	977630
+SHUFFLE	COPY_MAP_DATA	20645000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1024410
+SHUFFLE	COMPRESS_BYTE_COUNT	1024414
+SHUFFLE	COPY_MAP_DATA	74063000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	960097
+SHUFFLE	COMPRESS_BYTE_COUNT	960101
+SHUFFLE	COPY_MAP_DATA	16457000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	967239
+SHUFFLE	COMPRESS_BYTE_COUNT	967243
+SHUFFLE	COPY_MAP_DATA	54693000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	978356
+SHUFFLE	COMPRESS_BYTE_COUNT	978360
+SHUFFLE	COPY_MAP_DATA	64986000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	976900
+SHUFFLE	COMPRESS_BYTE_COUNT	976904
+SHUFFLE	COPY_MAP_DATA	71992000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	976013
+SHUFFLE	COMPRESS_BYTE_COUNT	976017
+SHUFFLE	COPY_MAP_DATA	18056000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1005389
+SHUFFLE	COMPRESS_BYTE_COUNT	1005393
+SHUFFLE	COPY_MAP_DATA	72339000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	981643
+SHUFFLE	COMPRESS_BYTE_COUNT	981647
+SHUFFLE	COPY_MAP_DATA	20368000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	945010
+SHUFFLE	COMPRESS_BYTE_COUNT	945014
+SHUFFLE	COPY_MAP_DATA	18536000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	962112
+SHUFFLE	COMPRESS_BYTE_COUNT	962116
+SHUFFLE	COPY_MAP_DATA	10594000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	889346
+SHUFFLE	COMPRESS_BYTE_COUNT	889350
+SHUFFLE	COPY_MAP_DATA	9078000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	972232
+SHUFFLE	COMPRESS_BYTE_COUNT	972236
+SHUFFLE	COPY_MAP_DATA	19962000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1013098
+SHUFFLE	COMPRESS_BYTE_COUNT	1013102
+SHUFFLE	COPY_MAP_DATA	17382000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	997383
+SHUFFLE	COMPRESS_BYTE_COUNT	997387
+SHUFFLE	COPY_MAP_DATA	54479000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1000900
+SHUFFLE	COMPRESS_BYTE_COUNT	1000904
+SHUFFLE	COPY_MAP_DATA	294823000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	959258
+SHUFFLE	COMPRESS_BYTE_COUNT	959262
+SHUFFLE	COPY_MAP_DATA	17867000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	926850
+SHUFFLE	COMPRESS_BYTE_COUNT	926854
+SHUFFLE	COPY_MAP_DATA	18860000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	942049
+SHUFFLE	COMPRESS_BYTE_COUNT	942053
+SHUFFLE	COPY_MAP_DATA	61324000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	957870
+SHUFFLE	COMPRESS_BYTE_COUNT	957874
+SHUFFLE	COPY_MAP_DATA	805968000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	934193
+SHUFFLE	COMPRESS_BYTE_COUNT	934197
+SHUFFLE	COPY_MAP_DATA	286310000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	976784
+SHUFFLE	COMPRESS_BYTE_COUNT	976788
+SHUFFLE	COPY_MAP_DATA	535327000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	921346
+SHUFFLE	COMPRESS_BYTE_COUNT	921350
+SHUFFLE	COPY_MAP_DATA	33619000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	929013
+SHUFFLE	COMPRESS_BYTE_COUNT	929017
+SHUFFLE	COPY_MAP_DATA	464987000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	943877
+SHUFFLE	COMPRESS_BYTE_COUNT	943881
+SHUFFLE	COPY_MAP_DATA	218243000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	981896
+SHUFFLE	COMPRESS_BYTE_COUNT	981900
+SHUFFLE	COPY_MAP_DATA	1317657000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	979209
+SHUFFLE	COMPRESS_BYTE_COUNT	979213
+SHUFFLE	COPY_MAP_DATA	1689252000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	909231
+SHUFFLE	COMPRESS_BYTE_COUNT	909235
+SHUFFLE	COPY_MAP_DATA	8225000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	879376
+SHUFFLE	COMPRESS_BYTE_COUNT	879380
+SHUFFLE	COPY_MAP_DATA	13162000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	907864
+SHUFFLE	COMPRESS_BYTE_COUNT	907868
+SHUFFLE	COPY_MAP_DATA	138941000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	936818
+SHUFFLE	COMPRESS_BYTE_COUNT	936822
+SHUFFLE	COPY_MAP_DATA	21028000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	888546
+SHUFFLE	COMPRESS_BYTE_COUNT	888550
+SHUFFLE	COPY_MAP_DATA	16869000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	907608
+SHUFFLE	COMPRESS_BYTE_COUNT	907612
+SHUFFLE	COPY_MAP_DATA	21281000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	930519
+SHUFFLE	COMPRESS_BYTE_COUNT	930523
+SHUFFLE	COPY_MAP_DATA	27174000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	855231
+SHUFFLE	COMPRESS_BYTE_COUNT	855235
+SHUFFLE	COPY_MAP_DATA	625621000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	885455
+SHUFFLE	COMPRESS_BYTE_COUNT	885459
+SHUFFLE	COPY_MAP_DATA	1905376000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	887093
+SHUFFLE	COMPRESS_BYTE_COUNT	887097
+SHUFFLE	COPY_MAP_DATA	20882000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	943417
+SHUFFLE	COMPRESS_BYTE_COUNT	943421
+SHUFFLE	COPY_MAP_DATA	263456000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	978038
+SHUFFLE	COMPRESS_BYTE_COUNT	978042
+SHUFFLE	COPY_MAP_DATA	53550000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	883828
+SHUFFLE	COMPRESS_BYTE_COUNT	883832
+SHUFFLE	COPY_MAP_DATA	173713000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	886324
+SHUFFLE	COMPRESS_BYTE_COUNT	886328
+SHUFFLE	COPY_MAP_DATA	135576000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	899312
+SHUFFLE	COMPRESS_BYTE_COUNT	899316
+SHUFFLE	COPY_MAP_DATA	23243000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	909407
+SHUFFLE	COMPRESS_BYTE_COUNT	909411
+SHUFFLE	COPY_MAP_DATA	5030544000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	938533
+SHUFFLE	COMPRESS_BYTE_COUNT	938537
+SHUFFLE	COPY_MAP_DATA	685691000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	938001
+SHUFFLE	COMPRESS_BYTE_COUNT	938005
+SHUFFLE	COPY_MAP_DATA	122529000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	885593
+SHUFFLE	COMPRESS_BYTE_COUNT	885597
+SHUFFLE	COPY_MAP_DATA	19201000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	898449
+SHUFFLE	COMPRESS_BYTE_COUNT	898453
+SHUFFLE	COPY_MAP_DATA	16335000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	888920
+SHUFFLE	COMPRESS_BYTE_COUNT	888924
+SHUFFLE	COPY_MAP_DATA	748452000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	845743
+SHUFFLE	COMPRESS_BYTE_COUNT	845747
+SHUFFLE	COPY_MAP_DATA	2813764000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	872068
+SHUFFLE	COMPRESS_BYTE_COUNT	872072
+SHUFFLE	COPY_MAP_DATA	1002555000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	892463
+SHUFFLE	COMPRESS_BYTE_COUNT	892467
+SHUFFLE	COPY_MAP_DATA	407233000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	894866
+SHUFFLE	COMPRESS_BYTE_COUNT	894870
+SHUFFLE	COPY_MAP_DATA	1230853000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	885581
+SHUFFLE	COMPRESS_BYTE_COUNT	885585
+SHUFFLE	COPY_MAP_DATA	488639000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	774595
+SHUFFLE	COMPRESS_BYTE_COUNT	774599
+SHUFFLE	COPY_MAP_DATA	25294000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	882694
+SHUFFLE	COMPRESS_BYTE_COUNT	882698
+SHUFFLE	COPY_MAP_DATA	14581000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	825152
+SHUFFLE	COMPRESS_BYTE_COUNT	825156
+SHUFFLE	COPY_MAP_DATA	428080000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	817512
+SHUFFLE	COMPRESS_BYTE_COUNT	817516
+SHUFFLE	COPY_MAP_DATA	22336000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	850956
+SHUFFLE	COMPRESS_BYTE_COUNT	850960
+SHUFFLE	COPY_MAP_DATA	8177000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	841793
+SHUFFLE	COMPRESS_BYTE_COUNT	841797
+SHUFFLE	COPY_MAP_DATA	18055000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	822390
+SHUFFLE	COMPRESS_BYTE_COUNT	822394
+SHUFFLE	COPY_MAP_DATA	14098000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	930444
+SHUFFLE	COMPRESS_BYTE_COUNT	930448
+SHUFFLE	COPY_MAP_DATA	1614833000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	838281
+SHUFFLE	COMPRESS_BYTE_COUNT	838285
+SHUFFLE	COPY_MAP_DATA	43570000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	808237
+SHUFFLE	COMPRESS_BYTE_COUNT	808241
+SHUFFLE	COPY_MAP_DATA	54947000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	872370
+SHUFFLE	COMPRESS_BYTE_COUNT	872374
+SHUFFLE	COPY_MAP_DATA	15513000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	860834
+SHUFFLE	COMPRESS_BYTE_COUNT	860838
+SHUFFLE	COPY_MAP_DATA	17214000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1082173
+SHUFFLE	COMPRESS_BYTE_COUNT	1082177
+SHUFFLE	COPY_MAP_DATA	18926000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	799470
+SHUFFLE	COMPRESS_BYTE_COUNT	799474
+SHUFFLE	COPY_MAP_DATA	12781000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	825104
+SHUFFLE	COMPRESS_BYTE_COUNT	825108
+SHUFFLE	COPY_MAP_DATA	16319000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	831327
+SHUFFLE	COMPRESS_BYTE_COUNT	831331
+SHUFFLE	COPY_MAP_DATA	35402000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	832405
+SHUFFLE	COMPRESS_BYTE_COUNT	832409
+SHUFFLE	COPY_MAP_DATA	15384000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	746367
+SHUFFLE	COMPRESS_BYTE_COUNT	746371
+SHUFFLE	COPY_MAP_DATA	655687000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	811283
+SHUFFLE	COMPRESS_BYTE_COUNT	811287
+SHUFFLE	COPY_MAP_DATA	204876000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	842485
+SHUFFLE	COMPRESS_BYTE_COUNT	842489
+SHUFFLE	COPY_MAP_DATA	18568000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	743547
+SHUFFLE	COMPRESS_BYTE_COUNT	743551
+SHUFFLE	COPY_MAP_DATA	21338000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	867055
+SHUFFLE	COMPRESS_BYTE_COUNT	867059
+SHUFFLE	COPY_MAP_DATA	459612000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	820279
+SHUFFLE	COMPRESS_BYTE_COUNT	820283
+SHUFFLE	COPY_MAP_DATA	4966017000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1019484
+SHUFFLE	COMPRESS_BYTE_COUNT	1019488
+SHUFFLE	COPY_MAP_DATA	65439000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	958090
+SHUFFLE	COMPRESS_BYTE_COUNT	958094
+SHUFFLE	COPY_MAP_DATA	890443000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	825850
+SHUFFLE	COMPRESS_BYTE_COUNT	825854
+SHUFFLE	COPY_MAP_DATA	312270000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	862452
+SHUFFLE	COMPRESS_BYTE_COUNT	862456
+SHUFFLE	COPY_MAP_DATA	351859000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	828658
+SHUFFLE	COMPRESS_BYTE_COUNT	828662
+SHUFFLE	COPY_MAP_DATA	44504000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	817546
+SHUFFLE	COMPRESS_BYTE_COUNT	817550
+SHUFFLE	COPY_MAP_DATA	265907000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	801435
+SHUFFLE	COMPRESS_BYTE_COUNT	801439
+SHUFFLE	COPY_MAP_DATA	12545000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	755239
+SHUFFLE	COMPRESS_BYTE_COUNT	755243
+SHUFFLE	COPY_MAP_DATA	5835000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	741676
+SHUFFLE	COMPRESS_BYTE_COUNT	741680
+SHUFFLE	COPY_MAP_DATA	220379000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	834415
+SHUFFLE	COMPRESS_BYTE_COUNT	834419
+SHUFFLE	COPY_MAP_DATA	18419000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	787936
+SHUFFLE	COMPRESS_BYTE_COUNT	787940
+SHUFFLE	COPY_MAP_DATA	155103000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	827929
+SHUFFLE	COMPRESS_BYTE_COUNT	827933
+SHUFFLE	COPY_MAP_DATA	923399000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	863982
+SHUFFLE	COMPRESS_BYTE_COUNT	863986
+SHUFFLE	COPY_MAP_DATA	260714000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	942777
+SHUFFLE	COMPRESS_BYTE_COUNT	942781
+SHUFFLE	COPY_MAP_DATA	17426000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1007944
+SHUFFLE	COMPRESS_BYTE_COUNT	1007948
+SHUFFLE	COPY_MAP_DATA	74498000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	819933
+SHUFFLE	COMPRESS_BYTE_COUNT	819937
+SHUFFLE	COPY_MAP_DATA	37229000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1085299
+SHUFFLE	COMPRESS_BYTE_COUNT	1085303
+SHUFFLE	COPY_MAP_DATA	1224876000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	813355
+SHUFFLE	COMPRESS_BYTE_COUNT	813359
+SHUFFLE	COPY_MAP_DATA	16648000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	768260
+SHUFFLE	COMPRESS_BYTE_COUNT	768264
+SHUFFLE	COPY_MAP_DATA	15235000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	886057
+SHUFFLE	COMPRESS_BYTE_COUNT	886061
+SHUFFLE	COPY_MAP_DATA	462988000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	803599
+SHUFFLE	COMPRESS_BYTE_COUNT	803603
+SHUFFLE	COPY_MAP_DATA	345201000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	836164
+SHUFFLE	COMPRESS_BYTE_COUNT	836168
+SHUFFLE	COPY_MAP_DATA	240769000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	836683
+SHUFFLE	COMPRESS_BYTE_COUNT	836687
+SHUFFLE	COPY_MAP_DATA	17642000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	760660
+SHUFFLE	COMPRESS_BYTE_COUNT	760664
+SHUFFLE	COPY_MAP_DATA	27608000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	800375
+SHUFFLE	COMPRESS_BYTE_COUNT	800379
+SHUFFLE	COPY_MAP_DATA	10657000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	805382
+SHUFFLE	COMPRESS_BYTE_COUNT	805386
+SHUFFLE	COPY_MAP_DATA	8130000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	775741
+SHUFFLE	COMPRESS_BYTE_COUNT	775745
+SHUFFLE	COPY_MAP_DATA	195022000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	857554
+SHUFFLE	COMPRESS_BYTE_COUNT	857558
+SHUFFLE	COPY_MAP_DATA	300755000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	879277
+SHUFFLE	COMPRESS_BYTE_COUNT	879281
+SHUFFLE	COPY_MAP_DATA	186555000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	783907
+SHUFFLE	COMPRESS_BYTE_COUNT	783911
+SHUFFLE	COPY_MAP_DATA	599714000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	984693
+SHUFFLE	COMPRESS_BYTE_COUNT	984697
+SHUFFLE	COPY_MAP_DATA	149023000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1164807
+SHUFFLE	COMPRESS_BYTE_COUNT	1164811
+SHUFFLE	COPY_MAP_DATA	228647000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1053677
+SHUFFLE	COMPRESS_BYTE_COUNT	1053681
+SHUFFLE	COPY_MAP_DATA	997894000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	769846
+SHUFFLE	COMPRESS_BYTE_COUNT	769850
+SHUFFLE	COPY_MAP_DATA	623580000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	829924
+SHUFFLE	COMPRESS_BYTE_COUNT	829928
+SHUFFLE	COPY_MAP_DATA	30358000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	781449
+SHUFFLE	COMPRESS_BYTE_COUNT	781453
+SHUFFLE	COPY_MAP_DATA	13420000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	765069
+SHUFFLE	COMPRESS_BYTE_COUNT	765073
+SHUFFLE	COPY_MAP_DATA	15229000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	927872
+SHUFFLE	COMPRESS_BYTE_COUNT	927876
+SHUFFLE	COPY_MAP_DATA	104718000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	754173
+SHUFFLE	COMPRESS_BYTE_COUNT	754177
+SHUFFLE	COPY_MAP_DATA	460752000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	743954
+SHUFFLE	COMPRESS_BYTE_COUNT	743958
+SHUFFLE	COPY_MAP_DATA	14252000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	756237
+SHUFFLE	COMPRESS_BYTE_COUNT	756241
+SHUFFLE	COPY_MAP_DATA	109071000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	786412
+SHUFFLE	COMPRESS_BYTE_COUNT	786416
+SHUFFLE	COPY_MAP_DATA	172227000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	846692
+SHUFFLE	COMPRESS_BYTE_COUNT	846696
+SHUFFLE	COPY_MAP_DATA	29363000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	898831
+SHUFFLE	COMPRESS_BYTE_COUNT	898835
+SHUFFLE	COPY_MAP_DATA	20484000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	918016
+SHUFFLE	COMPRESS_BYTE_COUNT	918020
+SHUFFLE	COPY_MAP_DATA	19895000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	779893
+SHUFFLE	COMPRESS_BYTE_COUNT	779897
+SHUFFLE	COPY_MAP_DATA	143660000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1029981
+SHUFFLE	COMPRESS_BYTE_COUNT	1029985
+SHUFFLE	COPY_MAP_DATA	27687000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	797426
+SHUFFLE	COMPRESS_BYTE_COUNT	797430
+SHUFFLE	COPY_MAP_DATA	357570000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	806041
+SHUFFLE	COMPRESS_BYTE_COUNT	806045
+SHUFFLE	COPY_MAP_DATA	17810000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	796232
+SHUFFLE	COMPRESS_BYTE_COUNT	796236
+SHUFFLE	COPY_MAP_DATA	1201270000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	702262
+SHUFFLE	COMPRESS_BYTE_COUNT	702266
+SHUFFLE	COPY_MAP_DATA	52600000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	879939
+SHUFFLE	COMPRESS_BYTE_COUNT	879943
+SHUFFLE	COPY_MAP_DATA	33296000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	860013
+SHUFFLE	COMPRESS_BYTE_COUNT	860017
+SHUFFLE	COPY_MAP_DATA	8544000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	766010
+SHUFFLE	COMPRESS_BYTE_COUNT	766014
+SHUFFLE	COPY_MAP_DATA	87207000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	926662
+SHUFFLE	COMPRESS_BYTE_COUNT	926666
+SHUFFLE	COPY_MAP_DATA	13295000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	754216
+SHUFFLE	COMPRESS_BYTE_COUNT	754220
+SHUFFLE	COPY_MAP_DATA	37993000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	782856
+SHUFFLE	COMPRESS_BYTE_COUNT	782860
+SHUFFLE	COPY_MAP_DATA	16685000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	732894
+SHUFFLE	COMPRESS_BYTE_COUNT	732898
+SHUFFLE	COPY_MAP_DATA	24276000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	990827
+SHUFFLE	COMPRESS_BYTE_COUNT	990831
+SHUFFLE	COPY_MAP_DATA	740416000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1153934
+SHUFFLE	COMPRESS_BYTE_COUNT	1153938
+SHUFFLE	COPY_MAP_DATA	1025081000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	797165
+SHUFFLE	COMPRESS_BYTE_COUNT	797169
+SHUFFLE	COPY_MAP_DATA	6656909000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	809607
+SHUFFLE	COMPRESS_BYTE_COUNT	809611
+SHUFFLE	COPY_MAP_DATA	21470000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1032870
+SHUFFLE	COMPRESS_BYTE_COUNT	1032874
+SHUFFLE	COPY_MAP_DATA	32206000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1171973
+SHUFFLE	COMPRESS_BYTE_COUNT	1171977
+SHUFFLE	COPY_MAP_DATA	111236000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	687148
+SHUFFLE	COMPRESS_BYTE_COUNT	687152
+SHUFFLE	COPY_MAP_DATA	118202000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	791415
+SHUFFLE	COMPRESS_BYTE_COUNT	791419
+SHUFFLE	COPY_MAP_DATA	89834000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	747603
+SHUFFLE	COMPRESS_BYTE_COUNT	747607
+SHUFFLE	COPY_MAP_DATA	92954000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	811563
+SHUFFLE	COMPRESS_BYTE_COUNT	811567
+SHUFFLE	COPY_MAP_DATA	299092000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	757646
+SHUFFLE	COMPRESS_BYTE_COUNT	757650
+SHUFFLE	COPY_MAP_DATA	253269000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	754216
+SHUFFLE	COMPRESS_BYTE_COUNT	754220
+SHUFFLE	COPY_MAP_DATA	469621000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	829154
+SHUFFLE	COMPRESS_BYTE_COUNT	829158
+SHUFFLE	COPY_MAP_DATA	1912493000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1095094
+SHUFFLE	COMPRESS_BYTE_COUNT	1095098
+SHUFFLE	COPY_MAP_DATA	38973000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	866265
+SHUFFLE	COMPRESS_BYTE_COUNT	866269
+SHUFFLE	COPY_MAP_DATA	44545000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	775537
+SHUFFLE	COMPRESS_BYTE_COUNT	775541
+SHUFFLE	COPY_MAP_DATA	24137000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	872428
+SHUFFLE	COMPRESS_BYTE_COUNT	872432
+SHUFFLE	COPY_MAP_DATA	26572000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	858406
+SHUFFLE	COMPRESS_BYTE_COUNT	858410
+SHUFFLE	COPY_MAP_DATA	34859000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	740649
+SHUFFLE	COMPRESS_BYTE_COUNT	740653
+SHUFFLE	COPY_MAP_DATA	9129000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	694973
+SHUFFLE	COMPRESS_BYTE_COUNT	694977
+SHUFFLE	COPY_MAP_DATA	27052000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	749587
+SHUFFLE	COMPRESS_BYTE_COUNT	749591
+SHUFFLE	COPY_MAP_DATA	18189000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1096624
+SHUFFLE	COMPRESS_BYTE_COUNT	1096628
+SHUFFLE	COPY_MAP_DATA	9467000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	829485
+SHUFFLE	COMPRESS_BYTE_COUNT	829489
+SHUFFLE	COPY_MAP_DATA	4254656000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	781898
+SHUFFLE	COMPRESS_BYTE_COUNT	781902
+SHUFFLE	COPY_MAP_DATA	16851000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	752806
+SHUFFLE	COMPRESS_BYTE_COUNT	752810
+SHUFFLE	COPY_MAP_DATA	13235000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	932872
+SHUFFLE	COMPRESS_BYTE_COUNT	932876
+SHUFFLE	COPY_MAP_DATA	15263000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	827027
+SHUFFLE	COMPRESS_BYTE_COUNT	827031
+SHUFFLE	COPY_MAP_DATA	13424000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1025595
+SHUFFLE	COMPRESS_BYTE_COUNT	1025599
+SHUFFLE	COPY_MAP_DATA	62728000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	667634
+SHUFFLE	COMPRESS_BYTE_COUNT	667638
+SHUFFLE	COPY_MAP_DATA	79423000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	967726
+SHUFFLE	COMPRESS_BYTE_COUNT	967730
+SHUFFLE	COPY_MAP_DATA	32533000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	773745
+SHUFFLE	COMPRESS_BYTE_COUNT	773749
+SHUFFLE	COPY_MAP_DATA	11970000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	758443
+SHUFFLE	COMPRESS_BYTE_COUNT	758447
+SHUFFLE	COPY_MAP_DATA	16216000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	591392
+SHUFFLE	COMPRESS_BYTE_COUNT	591396
+SHUFFLE	COPY_MAP_DATA	17440000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	960253
+SHUFFLE	COMPRESS_BYTE_COUNT	960257
+SHUFFLE	COPY_MAP_DATA	17597000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	876437
+SHUFFLE	COMPRESS_BYTE_COUNT	876441
+SHUFFLE	COPY_MAP_DATA	43690000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	788318
+SHUFFLE	COMPRESS_BYTE_COUNT	788322
+SHUFFLE	COPY_MAP_DATA	36092000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	85666354000
+MERGE	READ_WRITE	83538310000
+MERGE	READ_WRITE_COUNT	2
+MERGE	COMBINE	0
+MERGE	WRITE	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	15824208000
+SORT	READ_WRITE	15700400000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	141319912
+REDUCE	SETUP	302000
+REDUCE	SETUP_MEM	141319912
+REDUCE	CLEANUP	42000
+REDUCE	CLEANUP_MEM	178535392
+REDUCE	TOTAL_RUN	115706737000
+REDUCE	READ	11056642000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	97846194000
+REDUCE	WRITE	29625454000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	71993380
+REDUCE	VALUE_BYTE_COUNT	65690040
+REDUCE	REDUCE_MEM	178535392
+REDUCE	WRITE	87574000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	659203505735
@@ -0,0 +1,1333 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1986008
+SHUFFLE	COMPRESS_BYTE_COUNT	1986012
+SHUFFLE	COPY_MAP_DATA	245747000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1845901
+SHUFFLE	COMPRESS_BYTE_COUNT	1845905
+SHUFFLE	COPY_MAP_DATA	53578000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1807548
+SHUFFLE	COMPRESS_BYTE_COUNT	1807552
+SHUFFLE	COPY_MAP_DATA	42734000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1733517
+SHUFFLE	COMPRESS_BYTE_COUNT	1733521
+SHUFFLE	COPY_MAP_DATA	47778000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1969253
+SHUFFLE	COMPRESS_BYTE_COUNT	1969257
+SHUFFLE	COPY_MAP_DATA	36383000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2049332
+SHUFFLE	COMPRESS_BYTE_COUNT	2049336
+SHUFFLE	COPY_MAP_DATA	32021000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1817187
+SHUFFLE	COMPRESS_BYTE_COUNT	1817191
+SHUFFLE	COPY_MAP_DATA	76421000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1978849
+SHUFFLE	COMPRESS_BYTE_COUNT	1978853
+SHUFFLE	COPY_MAP_DATA	28496000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1918447
+SHUFFLE	COMPRESS_BYTE_COUNT	1918451
+SHUFFLE	COPY_MAP_DATA	1754917000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2069830
+SHUFFLE	COMPRESS_BYTE_COUNT	2069834
+SHUFFLE	COPY_MAP_DATA	116119000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2013140
+SHUFFLE	COMPRESS_BYTE_COUNT	2013144
+SHUFFLE	COPY_MAP_DATA	58647000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1928135
+SHUFFLE	COMPRESS_BYTE_COUNT	1928139
+SHUFFLE	COPY_MAP_DATA	41405000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1869634
+SHUFFLE	COMPRESS_BYTE_COUNT	1869638
+SHUFFLE	COPY_MAP_DATA	34371000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1911143
+SHUFFLE	COMPRESS_BYTE_COUNT	1911147
+SHUFFLE	COPY_MAP_DATA	59674000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2032304
+SHUFFLE	COMPRESS_BYTE_COUNT	2032308
+SHUFFLE	COPY_MAP_DATA	120399000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1905006
+SHUFFLE	COMPRESS_BYTE_COUNT	1905010
+SHUFFLE	COPY_MAP_DATA	46537000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2088954
+SHUFFLE	COMPRESS_BYTE_COUNT	2088958
+SHUFFLE	COPY_MAP_DATA	29365000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2047817
+SHUFFLE	COMPRESS_BYTE_COUNT	2047821
+SHUFFLE	COPY_MAP_DATA	133567000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2051444
+SHUFFLE	COMPRESS_BYTE_COUNT	2051448
+SHUFFLE	COPY_MAP_DATA	72994000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1940698
+SHUFFLE	COMPRESS_BYTE_COUNT	1940702
+SHUFFLE	COPY_MAP_DATA	138152000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2031973
+SHUFFLE	COMPRESS_BYTE_COUNT	2031977
+SHUFFLE	COPY_MAP_DATA	58143000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1975101
+SHUFFLE	COMPRESS_BYTE_COUNT	1975105
+SHUFFLE	COPY_MAP_DATA	23392000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2130244
+SHUFFLE	COMPRESS_BYTE_COUNT	2130248
+SHUFFLE	COPY_MAP_DATA	56653000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1901145
+SHUFFLE	COMPRESS_BYTE_COUNT	1901149
+SHUFFLE	COPY_MAP_DATA	86296000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1763002
+SHUFFLE	COMPRESS_BYTE_COUNT	1763006
+SHUFFLE	COPY_MAP_DATA	30366000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1931112
+SHUFFLE	COMPRESS_BYTE_COUNT	1931116
+SHUFFLE	COPY_MAP_DATA	33110000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1936408
+SHUFFLE	COMPRESS_BYTE_COUNT	1936412
+SHUFFLE	COPY_MAP_DATA	516571000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2191429
+SHUFFLE	COMPRESS_BYTE_COUNT	2191433
+SHUFFLE	COPY_MAP_DATA	115213000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1931661
+SHUFFLE	COMPRESS_BYTE_COUNT	1931665
+SHUFFLE	COPY_MAP_DATA	44602000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2105284
+SHUFFLE	COMPRESS_BYTE_COUNT	2105288
+SHUFFLE	COPY_MAP_DATA	16513000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1873424
+SHUFFLE	COMPRESS_BYTE_COUNT	1873428
+SHUFFLE	COPY_MAP_DATA	1410105000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1799154
+SHUFFLE	COMPRESS_BYTE_COUNT	1799158
+SHUFFLE	COPY_MAP_DATA	221977000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1983247
+SHUFFLE	COMPRESS_BYTE_COUNT	1983251
+SHUFFLE	COPY_MAP_DATA	2888675000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1749925
+SHUFFLE	COMPRESS_BYTE_COUNT	1749929
+SHUFFLE	COPY_MAP_DATA	365575000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1815203
+SHUFFLE	COMPRESS_BYTE_COUNT	1815207
+SHUFFLE	COPY_MAP_DATA	128142000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2017686
+SHUFFLE	COMPRESS_BYTE_COUNT	2017690
+SHUFFLE	COPY_MAP_DATA	233389000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1874218
+SHUFFLE	COMPRESS_BYTE_COUNT	1874222
+SHUFFLE	COPY_MAP_DATA	46971000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1645768
+SHUFFLE	COMPRESS_BYTE_COUNT	1645772
+SHUFFLE	COPY_MAP_DATA	17739000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1859212
+SHUFFLE	COMPRESS_BYTE_COUNT	1859216
+SHUFFLE	COPY_MAP_DATA	182751000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1859469
+SHUFFLE	COMPRESS_BYTE_COUNT	1859473
+SHUFFLE	COPY_MAP_DATA	38290000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1933636
+SHUFFLE	COMPRESS_BYTE_COUNT	1933640
+SHUFFLE	COPY_MAP_DATA	27832000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1792321
+SHUFFLE	COMPRESS_BYTE_COUNT	1792325
+SHUFFLE	COPY_MAP_DATA	45404000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1927217
+SHUFFLE	COMPRESS_BYTE_COUNT	1927221
+SHUFFLE	COPY_MAP_DATA	25572000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1806554
+SHUFFLE	COMPRESS_BYTE_COUNT	1806558
+SHUFFLE	COPY_MAP_DATA	36468000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1578137
+SHUFFLE	COMPRESS_BYTE_COUNT	1578141
+SHUFFLE	COPY_MAP_DATA	70957000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2005252
+SHUFFLE	COMPRESS_BYTE_COUNT	2005256
+SHUFFLE	COPY_MAP_DATA	84570000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1789347
+SHUFFLE	COMPRESS_BYTE_COUNT	1789351
+SHUFFLE	COPY_MAP_DATA	23728000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1864208
+SHUFFLE	COMPRESS_BYTE_COUNT	1864212
+SHUFFLE	COPY_MAP_DATA	238488000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1779442
+SHUFFLE	COMPRESS_BYTE_COUNT	1779446
+SHUFFLE	COPY_MAP_DATA	33995000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1596541
+SHUFFLE	COMPRESS_BYTE_COUNT	1596545
+SHUFFLE	COPY_MAP_DATA	29326000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1779443
+SHUFFLE	COMPRESS_BYTE_COUNT	1779447
+SHUFFLE	COPY_MAP_DATA	2361629000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1926546
+SHUFFLE	COMPRESS_BYTE_COUNT	1926550
+SHUFFLE	COPY_MAP_DATA	727299000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1635906
+SHUFFLE	COMPRESS_BYTE_COUNT	1635910
+SHUFFLE	COPY_MAP_DATA	31644000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1692160
+SHUFFLE	COMPRESS_BYTE_COUNT	1692164
+SHUFFLE	COPY_MAP_DATA	1364703000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1617630
+SHUFFLE	COMPRESS_BYTE_COUNT	1617634
+SHUFFLE	COPY_MAP_DATA	1851241000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1838941
+SHUFFLE	COMPRESS_BYTE_COUNT	1838945
+SHUFFLE	COPY_MAP_DATA	42205000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1843400
+SHUFFLE	COMPRESS_BYTE_COUNT	1843404
+SHUFFLE	COPY_MAP_DATA	1396736000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1754586
+SHUFFLE	COMPRESS_BYTE_COUNT	1754590
+SHUFFLE	COPY_MAP_DATA	26406000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1892176
+SHUFFLE	COMPRESS_BYTE_COUNT	1892180
+SHUFFLE	COPY_MAP_DATA	26377000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1693728
+SHUFFLE	COMPRESS_BYTE_COUNT	1693732
+SHUFFLE	COPY_MAP_DATA	1061268000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1628232
+SHUFFLE	COMPRESS_BYTE_COUNT	1628236
+SHUFFLE	COPY_MAP_DATA	408774000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1656404
+SHUFFLE	COMPRESS_BYTE_COUNT	1656408
+SHUFFLE	COPY_MAP_DATA	853512000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1896524
+SHUFFLE	COMPRESS_BYTE_COUNT	1896528
+SHUFFLE	COPY_MAP_DATA	71596000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1929678
+SHUFFLE	COMPRESS_BYTE_COUNT	1929682
+SHUFFLE	COPY_MAP_DATA	1937627000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1644092
+SHUFFLE	COMPRESS_BYTE_COUNT	1644096
+SHUFFLE	COPY_MAP_DATA	561869000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1659902
+SHUFFLE	COMPRESS_BYTE_COUNT	1659906
+SHUFFLE	COPY_MAP_DATA	461750000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1595668
+SHUFFLE	COMPRESS_BYTE_COUNT	1595672
+SHUFFLE	COPY_MAP_DATA	1399241000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1639362
+SHUFFLE	COMPRESS_BYTE_COUNT	1639366
+SHUFFLE	COPY_MAP_DATA	383439000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1635296
+SHUFFLE	COMPRESS_BYTE_COUNT	1635300
+SHUFFLE	COPY_MAP_DATA	149324000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1834375
+SHUFFLE	COMPRESS_BYTE_COUNT	1834379
+SHUFFLE	COPY_MAP_DATA	502372000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1557762
+SHUFFLE	COMPRESS_BYTE_COUNT	1557766
+SHUFFLE	COPY_MAP_DATA	284839000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1766999
+SHUFFLE	COMPRESS_BYTE_COUNT	1767003
+SHUFFLE	COPY_MAP_DATA	12119260000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1639500
+SHUFFLE	COMPRESS_BYTE_COUNT	1639504
+SHUFFLE	COPY_MAP_DATA	24289000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1910487
+SHUFFLE	COMPRESS_BYTE_COUNT	1910491
+SHUFFLE	COPY_MAP_DATA	32906000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1611547
+SHUFFLE	COMPRESS_BYTE_COUNT	1611551
+SHUFFLE	COPY_MAP_DATA	189680000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1682937
+SHUFFLE	COMPRESS_BYTE_COUNT	1682941
+SHUFFLE	COPY_MAP_DATA	23795000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1577244
+SHUFFLE	COMPRESS_BYTE_COUNT	1577248
+SHUFFLE	COPY_MAP_DATA	45929000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1811993
+SHUFFLE	COMPRESS_BYTE_COUNT	1811997
+SHUFFLE	COPY_MAP_DATA	862121000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1548032
+SHUFFLE	COMPRESS_BYTE_COUNT	1548036
+SHUFFLE	COPY_MAP_DATA	2672295000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1793575
+SHUFFLE	COMPRESS_BYTE_COUNT	1793579
+SHUFFLE	COPY_MAP_DATA	32406000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1726424
+SHUFFLE	COMPRESS_BYTE_COUNT	1726428
+SHUFFLE	COPY_MAP_DATA	35957000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1486316
+SHUFFLE	COMPRESS_BYTE_COUNT	1486320
+SHUFFLE	COPY_MAP_DATA	3072061000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1648874
+SHUFFLE	COMPRESS_BYTE_COUNT	1648878
+SHUFFLE	COPY_MAP_DATA	81024000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1691762
+SHUFFLE	COMPRESS_BYTE_COUNT	1691766
+SHUFFLE	COPY_MAP_DATA	28839000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1861118
+SHUFFLE	COMPRESS_BYTE_COUNT	1861122
+SHUFFLE	COPY_MAP_DATA	19145000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1529745
+SHUFFLE	COMPRESS_BYTE_COUNT	1529749
+SHUFFLE	COPY_MAP_DATA	24730000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1463007
+SHUFFLE	COMPRESS_BYTE_COUNT	1463011
+SHUFFLE	COPY_MAP_DATA	500088000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1807579
+SHUFFLE	COMPRESS_BYTE_COUNT	1807583
+SHUFFLE	COPY_MAP_DATA	611005000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	828777
+SHUFFLE	COMPRESS_BYTE_COUNT	828781
+SHUFFLE	COPY_MAP_DATA	16250000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1738245
+SHUFFLE	COMPRESS_BYTE_COUNT	1738249
+SHUFFLE	COPY_MAP_DATA	19354000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1590750
+SHUFFLE	COMPRESS_BYTE_COUNT	1590754
+SHUFFLE	COPY_MAP_DATA	111220000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	947794
+SHUFFLE	COMPRESS_BYTE_COUNT	947798
+SHUFFLE	COPY_MAP_DATA	18259000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1582203
+SHUFFLE	COMPRESS_BYTE_COUNT	1582207
+SHUFFLE	COPY_MAP_DATA	37269000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1654145
+SHUFFLE	COMPRESS_BYTE_COUNT	1654149
+SHUFFLE	COPY_MAP_DATA	17578000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1031497
+SHUFFLE	COMPRESS_BYTE_COUNT	1031501
+SHUFFLE	COPY_MAP_DATA	6042314000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	904742
+SHUFFLE	COMPRESS_BYTE_COUNT	904746
+SHUFFLE	COPY_MAP_DATA	166307000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	859756
+SHUFFLE	COMPRESS_BYTE_COUNT	859760
+SHUFFLE	COPY_MAP_DATA	425051000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1777764
+SHUFFLE	COMPRESS_BYTE_COUNT	1777768
+SHUFFLE	COPY_MAP_DATA	29457000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1453430
+SHUFFLE	COMPRESS_BYTE_COUNT	1453434
+SHUFFLE	COPY_MAP_DATA	20291000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1619758
+SHUFFLE	COMPRESS_BYTE_COUNT	1619762
+SHUFFLE	COPY_MAP_DATA	75608000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1017552
+SHUFFLE	COMPRESS_BYTE_COUNT	1017556
+SHUFFLE	COPY_MAP_DATA	541841000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1697368
+SHUFFLE	COMPRESS_BYTE_COUNT	1697372
+SHUFFLE	COPY_MAP_DATA	642924000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1031613
+SHUFFLE	COMPRESS_BYTE_COUNT	1031617
+SHUFFLE	COPY_MAP_DATA	138538000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1744512
+SHUFFLE	COMPRESS_BYTE_COUNT	1744516
+SHUFFLE	COPY_MAP_DATA	945413000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1777326
+SHUFFLE	COMPRESS_BYTE_COUNT	1777330
+SHUFFLE	COPY_MAP_DATA	614363000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1705411
+SHUFFLE	COMPRESS_BYTE_COUNT	1705415
+SHUFFLE	COPY_MAP_DATA	184832000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1074002
+SHUFFLE	COMPRESS_BYTE_COUNT	1074006
+SHUFFLE	COPY_MAP_DATA	25417000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1744218
+SHUFFLE	COMPRESS_BYTE_COUNT	1744222
+SHUFFLE	COPY_MAP_DATA	24715000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1717268
+SHUFFLE	COMPRESS_BYTE_COUNT	1717272
+SHUFFLE	COPY_MAP_DATA	58137000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1055901
+SHUFFLE	COMPRESS_BYTE_COUNT	1055905
+SHUFFLE	COPY_MAP_DATA	48375000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	995545
+SHUFFLE	COMPRESS_BYTE_COUNT	995549
+SHUFFLE	COPY_MAP_DATA	18467000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1512085
+SHUFFLE	COMPRESS_BYTE_COUNT	1512089
+SHUFFLE	COPY_MAP_DATA	23627000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1574279
+SHUFFLE	COMPRESS_BYTE_COUNT	1574283
+SHUFFLE	COPY_MAP_DATA	24444000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	975332
+SHUFFLE	COMPRESS_BYTE_COUNT	975336
+SHUFFLE	COPY_MAP_DATA	18006000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1293612
+SHUFFLE	COMPRESS_BYTE_COUNT	1293616
+SHUFFLE	COPY_MAP_DATA	3645947000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1008780
+SHUFFLE	COMPRESS_BYTE_COUNT	1008784
+SHUFFLE	COPY_MAP_DATA	71768000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1073673
+SHUFFLE	COMPRESS_BYTE_COUNT	1073677
+SHUFFLE	COPY_MAP_DATA	26173000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1698042
+SHUFFLE	COMPRESS_BYTE_COUNT	1698046
+SHUFFLE	COPY_MAP_DATA	14028000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1650689
+SHUFFLE	COMPRESS_BYTE_COUNT	1650693
+SHUFFLE	COPY_MAP_DATA	90219000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1764578
+SHUFFLE	COMPRESS_BYTE_COUNT	1764582
+SHUFFLE	COPY_MAP_DATA	1654247000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	987300
+SHUFFLE	COMPRESS_BYTE_COUNT	987304
+SHUFFLE	COPY_MAP_DATA	56677000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1002852
+SHUFFLE	COMPRESS_BYTE_COUNT	1002856
+SHUFFLE	COPY_MAP_DATA	73708000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	996411
+SHUFFLE	COMPRESS_BYTE_COUNT	996415
+SHUFFLE	COPY_MAP_DATA	4527161000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	873511
+SHUFFLE	COMPRESS_BYTE_COUNT	873515
+SHUFFLE	COPY_MAP_DATA	513883000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1047419
+SHUFFLE	COMPRESS_BYTE_COUNT	1047423
+SHUFFLE	COPY_MAP_DATA	163854000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1092545
+SHUFFLE	COMPRESS_BYTE_COUNT	1092549
+SHUFFLE	COPY_MAP_DATA	96462000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	970709
+SHUFFLE	COMPRESS_BYTE_COUNT	970713
+SHUFFLE	COPY_MAP_DATA	117677000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1001818
+SHUFFLE	COMPRESS_BYTE_COUNT	1001822
+SHUFFLE	COPY_MAP_DATA	313180000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1001097
+SHUFFLE	COMPRESS_BYTE_COUNT	1001101
+SHUFFLE	COPY_MAP_DATA	421446000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	947740
+SHUFFLE	COMPRESS_BYTE_COUNT	947744
+SHUFFLE	COPY_MAP_DATA	207145000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1024752
+SHUFFLE	COMPRESS_BYTE_COUNT	1024756
+SHUFFLE	COPY_MAP_DATA	306276000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1014423
+SHUFFLE	COMPRESS_BYTE_COUNT	1014427
+SHUFFLE	COPY_MAP_DATA	204167000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1011001
+SHUFFLE	COMPRESS_BYTE_COUNT	1011005
+SHUFFLE	COPY_MAP_DATA	38198000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	919357
+SHUFFLE	COMPRESS_BYTE_COUNT	919361
+SHUFFLE	COPY_MAP_DATA	23219000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	984913
+SHUFFLE	COMPRESS_BYTE_COUNT	984917
+SHUFFLE	COPY_MAP_DATA	182742000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	956481
+SHUFFLE	COMPRESS_BYTE_COUNT	956485
+SHUFFLE	COPY_MAP_DATA	700740000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1030913
+SHUFFLE	COMPRESS_BYTE_COUNT	1030917
+SHUFFLE	COPY_MAP_DATA	139796000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1021305
+SHUFFLE	COMPRESS_BYTE_COUNT	1021309
+SHUFFLE	COPY_MAP_DATA	11966000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1037334
+SHUFFLE	COMPRESS_BYTE_COUNT	1037338
+SHUFFLE	COPY_MAP_DATA	72709000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	981431
+SHUFFLE	COMPRESS_BYTE_COUNT	981435
+SHUFFLE	COPY_MAP_DATA	220700000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1542449
+SHUFFLE	COMPRESS_BYTE_COUNT	1542453
+SHUFFLE	COPY_MAP_DATA	7546293000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1025842
+SHUFFLE	COMPRESS_BYTE_COUNT	1025846
+SHUFFLE	COPY_MAP_DATA	54735000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1144012
+SHUFFLE	COMPRESS_BYTE_COUNT	1144016
+SHUFFLE	COPY_MAP_DATA	35623000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1016906
+SHUFFLE	COMPRESS_BYTE_COUNT	1016910
+SHUFFLE	COPY_MAP_DATA	68108000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	966285
+SHUFFLE	COMPRESS_BYTE_COUNT	966289
+SHUFFLE	COPY_MAP_DATA	18483000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	966712
+SHUFFLE	COMPRESS_BYTE_COUNT	966716
+SHUFFLE	COPY_MAP_DATA	750188000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	976350
+SHUFFLE	COMPRESS_BYTE_COUNT	976354
+SHUFFLE	COPY_MAP_DATA	1851792000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	989966
+SHUFFLE	COMPRESS_BYTE_COUNT	989970
+SHUFFLE	COPY_MAP_DATA	93794000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	964721
+SHUFFLE	COMPRESS_BYTE_COUNT	964725
+SHUFFLE	COPY_MAP_DATA	72702000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	950938
+SHUFFLE	COMPRESS_BYTE_COUNT	950942
+SHUFFLE	COPY_MAP_DATA	444256000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1032498
+SHUFFLE	COMPRESS_BYTE_COUNT	1032502
+SHUFFLE	COPY_MAP_DATA	18307000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1105494
+SHUFFLE	COMPRESS_BYTE_COUNT	1105498
+SHUFFLE	COPY_MAP_DATA	946524000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	916992
+SHUFFLE	COMPRESS_BYTE_COUNT	916996
+SHUFFLE	COPY_MAP_DATA	38026000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	985137
+SHUFFLE	COMPRESS_BYTE_COUNT	985141
+SHUFFLE	COPY_MAP_DATA	363823000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	957688
+SHUFFLE	COMPRESS_BYTE_COUNT	957692
+SHUFFLE	COPY_MAP_DATA	102467000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	966403
+SHUFFLE	COMPRESS_BYTE_COUNT	966407
+SHUFFLE	COPY_MAP_DATA	24874000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	967340
+SHUFFLE	COMPRESS_BYTE_COUNT	967344
+SHUFFLE	COPY_MAP_DATA	17734000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1014656
+SHUFFLE	COMPRESS_BYTE_COUNT	1014660
+SHUFFLE	COPY_MAP_DATA	81324000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	980725
+SHUFFLE	COMPRESS_BYTE_COUNT	980729
+SHUFFLE	COPY_MAP_DATA	10769000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	946424
+SHUFFLE	COMPRESS_BYTE_COUNT	946428
+SHUFFLE	COPY_MAP_DATA	17193000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	979134
+SHUFFLE	COMPRESS_BYTE_COUNT	979138
+SHUFFLE	COPY_MAP_DATA	19522000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	952957
+SHUFFLE	COMPRESS_BYTE_COUNT	952961
+SHUFFLE	COPY_MAP_DATA	43904000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	948085
+SHUFFLE	COMPRESS_BYTE_COUNT	948089
+SHUFFLE	COPY_MAP_DATA	441777000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	951073
+SHUFFLE	COMPRESS_BYTE_COUNT	951077
+SHUFFLE	COPY_MAP_DATA	162365000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	984219
+SHUFFLE	COMPRESS_BYTE_COUNT	984223
+SHUFFLE	COPY_MAP_DATA	18293000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1029474
+SHUFFLE	COMPRESS_BYTE_COUNT	1029478
+SHUFFLE	COPY_MAP_DATA	35578000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1003032
+SHUFFLE	COMPRESS_BYTE_COUNT	1003036
+SHUFFLE	COPY_MAP_DATA	566801000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	980681
+SHUFFLE	COMPRESS_BYTE_COUNT	980685
+SHUFFLE	COPY_MAP_DATA	18022000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	911308
+SHUFFLE	COMPRESS_BYTE_COUNT	911312
+SHUFFLE	COPY_MAP_DATA	361643000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	888215
+SHUFFLE	COMPRESS_BYTE_COUNT	888219
+SHUFFLE	COPY_MAP_DATA	340582000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	957228
+SHUFFLE	COMPRESS_BYTE_COUNT	957232
+SHUFFLE	COPY_MAP_DATA	14182000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	918563
+SHUFFLE	COMPRESS_BYTE_COUNT	918567
+SHUFFLE	COPY_MAP_DATA	28951000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	937924
+SHUFFLE	COMPRESS_BYTE_COUNT	937928
+SHUFFLE	COPY_MAP_DATA	251464000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	954764
+SHUFFLE	COMPRESS_BYTE_COUNT	954768
+SHUFFLE	COPY_MAP_DATA	184841000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1012139
+SHUFFLE	COMPRESS_BYTE_COUNT	1012143
+SHUFFLE	COPY_MAP_DATA	51089000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	934089
+SHUFFLE	COMPRESS_BYTE_COUNT	934093
+SHUFFLE	COPY_MAP_DATA	4193454000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	967890
+SHUFFLE	COMPRESS_BYTE_COUNT	967894
+SHUFFLE	COPY_MAP_DATA	16895000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	935502
+SHUFFLE	COMPRESS_BYTE_COUNT	935506
+SHUFFLE	COPY_MAP_DATA	12389000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	959208
+SHUFFLE	COMPRESS_BYTE_COUNT	959212
+SHUFFLE	COPY_MAP_DATA	9172000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	933257
+SHUFFLE	COMPRESS_BYTE_COUNT	933261
+SHUFFLE	COPY_MAP_DATA	93050000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	925382
+SHUFFLE	COMPRESS_BYTE_COUNT	925386
+SHUFFLE	COPY_MAP_DATA	406914000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	865000
+SHUFFLE	COMPRESS_BYTE_COUNT	865004
+SHUFFLE	COPY_MAP_DATA	295606000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	898004
+SHUFFLE	COMPRESS_BYTE_COUNT	898008
+SHUFFLE	COPY_MAP_DATA	44652000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	970125
+SHUFFLE	COMPRESS_BYTE_COUNT	970129
+SHUFFLE	COPY_MAP_DATA	17083000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	950130
+SHUFFLE	COMPRESS_BYTE_COUNT	950134
+SHUFFLE	COPY_MAP_DATA	29186000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	940129
+SHUFFLE	COMPRESS_BYTE_COUNT	940133
+SHUFFLE	COPY_MAP_DATA	18329000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	893272
+SHUFFLE	COMPRESS_BYTE_COUNT	893276
+SHUFFLE	COPY_MAP_DATA	18223000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	956697
+SHUFFLE	COMPRESS_BYTE_COUNT	956701
+SHUFFLE	COPY_MAP_DATA	1049840000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	916649
+SHUFFLE	COMPRESS_BYTE_COUNT	916653
+SHUFFLE	COPY_MAP_DATA	18212000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	929300
+SHUFFLE	COMPRESS_BYTE_COUNT	929304
+SHUFFLE	COPY_MAP_DATA	18937000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	886233
+SHUFFLE	COMPRESS_BYTE_COUNT	886237
+SHUFFLE	COPY_MAP_DATA	105213000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	887848
+SHUFFLE	COMPRESS_BYTE_COUNT	887852
+SHUFFLE	COPY_MAP_DATA	1445057000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	947561
+SHUFFLE	COMPRESS_BYTE_COUNT	947565
+SHUFFLE	COPY_MAP_DATA	161735000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	949681
+SHUFFLE	COMPRESS_BYTE_COUNT	949685
+SHUFFLE	COPY_MAP_DATA	23837000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	885418
+SHUFFLE	COMPRESS_BYTE_COUNT	885422
+SHUFFLE	COPY_MAP_DATA	178404000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	905256
+SHUFFLE	COMPRESS_BYTE_COUNT	905260
+SHUFFLE	COPY_MAP_DATA	36569000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	889195
+SHUFFLE	COMPRESS_BYTE_COUNT	889199
+SHUFFLE	COPY_MAP_DATA	18426000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	902517
+SHUFFLE	COMPRESS_BYTE_COUNT	902521
+SHUFFLE	COPY_MAP_DATA	19204000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	927044
+SHUFFLE	COMPRESS_BYTE_COUNT	927048
+SHUFFLE	COPY_MAP_DATA	143651000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	922203
+SHUFFLE	COMPRESS_BYTE_COUNT	922207
+SHUFFLE	COPY_MAP_DATA	15824000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	934198
+SHUFFLE	COMPRESS_BYTE_COUNT	934202
+SHUFFLE	COPY_MAP_DATA	35730000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	884353
+SHUFFLE	COMPRESS_BYTE_COUNT	884357
+SHUFFLE	COPY_MAP_DATA	129376000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	899629
+SHUFFLE	COMPRESS_BYTE_COUNT	899633
+SHUFFLE	COPY_MAP_DATA	377592000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	882984
+SHUFFLE	COMPRESS_BYTE_COUNT	882988
+SHUFFLE	COPY_MAP_DATA	2260256000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1022577
+SHUFFLE	COMPRESS_BYTE_COUNT	1022581
+SHUFFLE	COPY_MAP_DATA	3531069000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	897491
+SHUFFLE	COMPRESS_BYTE_COUNT	897495
+SHUFFLE	COPY_MAP_DATA	19583000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	896461
+SHUFFLE	COMPRESS_BYTE_COUNT	896465
+SHUFFLE	COPY_MAP_DATA	102610000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	825498
+SHUFFLE	COMPRESS_BYTE_COUNT	825502
+SHUFFLE	COPY_MAP_DATA	8382000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	852194
+SHUFFLE	COMPRESS_BYTE_COUNT	852198
+SHUFFLE	COPY_MAP_DATA	49644000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	904745
+SHUFFLE	COMPRESS_BYTE_COUNT	904749
+SHUFFLE	COPY_MAP_DATA	21097000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	798294
+SHUFFLE	COMPRESS_BYTE_COUNT	798298
+SHUFFLE	COPY_MAP_DATA	7979000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	807497
+SHUFFLE	COMPRESS_BYTE_COUNT	807501
+SHUFFLE	COPY_MAP_DATA	133449000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	853374
+SHUFFLE	COMPRESS_BYTE_COUNT	853378
+SHUFFLE	COPY_MAP_DATA	469895000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	850298
+SHUFFLE	COMPRESS_BYTE_COUNT	850302
+SHUFFLE	COPY_MAP_DATA	173579000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	869170
+SHUFFLE	COMPRESS_BYTE_COUNT	869174
+SHUFFLE	COPY_MAP_DATA	3033950000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	885905
+SHUFFLE	COMPRESS_BYTE_COUNT	885909
+SHUFFLE	COPY_MAP_DATA	19823000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	855988
+SHUFFLE	COMPRESS_BYTE_COUNT	855992
+SHUFFLE	COPY_MAP_DATA	20048000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	927994
+SHUFFLE	COMPRESS_BYTE_COUNT	927998
+SHUFFLE	COPY_MAP_DATA	27000000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	826138
+SHUFFLE	COMPRESS_BYTE_COUNT	826142
+SHUFFLE	COPY_MAP_DATA	175256000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	867640
+SHUFFLE	COMPRESS_BYTE_COUNT	867644
+SHUFFLE	COPY_MAP_DATA	2568172000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	852400
+SHUFFLE	COMPRESS_BYTE_COUNT	852404
+SHUFFLE	COPY_MAP_DATA	699118000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	942497
+SHUFFLE	COMPRESS_BYTE_COUNT	942501
+SHUFFLE	COPY_MAP_DATA	51737000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	793699
+SHUFFLE	COMPRESS_BYTE_COUNT	793703
+SHUFFLE	COPY_MAP_DATA	12619000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	856039
+SHUFFLE	COMPRESS_BYTE_COUNT	856043
+SHUFFLE	COPY_MAP_DATA	122521000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	839436
+SHUFFLE	COMPRESS_BYTE_COUNT	839440
+SHUFFLE	COPY_MAP_DATA	281626000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	758309
+SHUFFLE	COMPRESS_BYTE_COUNT	758313
+SHUFFLE	COPY_MAP_DATA	44165000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	873843
+SHUFFLE	COMPRESS_BYTE_COUNT	873847
+SHUFFLE	COPY_MAP_DATA	19981000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	838365
+SHUFFLE	COMPRESS_BYTE_COUNT	838369
+SHUFFLE	COPY_MAP_DATA	19016000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	929121
+SHUFFLE	COMPRESS_BYTE_COUNT	929125
+SHUFFLE	COPY_MAP_DATA	121145000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	816433
+SHUFFLE	COMPRESS_BYTE_COUNT	816437
+SHUFFLE	COPY_MAP_DATA	69817000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	818865
+SHUFFLE	COMPRESS_BYTE_COUNT	818869
+SHUFFLE	COPY_MAP_DATA	16322000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	818976
+SHUFFLE	COMPRESS_BYTE_COUNT	818980
+SHUFFLE	COPY_MAP_DATA	15666000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	982677
+SHUFFLE	COMPRESS_BYTE_COUNT	982681
+SHUFFLE	COPY_MAP_DATA	26383000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	825221
+SHUFFLE	COMPRESS_BYTE_COUNT	825225
+SHUFFLE	COPY_MAP_DATA	2283212000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	819003
+SHUFFLE	COMPRESS_BYTE_COUNT	819007
+SHUFFLE	COPY_MAP_DATA	28551000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	891858
+SHUFFLE	COMPRESS_BYTE_COUNT	891862
+SHUFFLE	COPY_MAP_DATA	22965000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	764460
+SHUFFLE	COMPRESS_BYTE_COUNT	764464
+SHUFFLE	COPY_MAP_DATA	574275000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	847476
+SHUFFLE	COMPRESS_BYTE_COUNT	847480
+SHUFFLE	COPY_MAP_DATA	12556000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	796472
+SHUFFLE	COMPRESS_BYTE_COUNT	796476
+SHUFFLE	COPY_MAP_DATA	230094000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	744413
+SHUFFLE	COMPRESS_BYTE_COUNT	744417
+SHUFFLE	COPY_MAP_DATA	267715000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	869844
+SHUFFLE	COMPRESS_BYTE_COUNT	869848
+SHUFFLE	COPY_MAP_DATA	15268000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	938152
+SHUFFLE	COMPRESS_BYTE_COUNT	938156
+SHUFFLE	COPY_MAP_DATA	17175000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	824185
+SHUFFLE	COMPRESS_BYTE_COUNT	824189
+SHUFFLE	COPY_MAP_DATA	987296000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	986127
+SHUFFLE	COMPRESS_BYTE_COUNT	986131
+SHUFFLE	COPY_MAP_DATA	2020149000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	831252
+SHUFFLE	COMPRESS_BYTE_COUNT	831256
+SHUFFLE	COPY_MAP_DATA	17448000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	837268
+SHUFFLE	COMPRESS_BYTE_COUNT	837272
+SHUFFLE	COPY_MAP_DATA	231001000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	779267
+SHUFFLE	COMPRESS_BYTE_COUNT	779271
+SHUFFLE	COPY_MAP_DATA	411411000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	863692
+SHUFFLE	COMPRESS_BYTE_COUNT	863696
+SHUFFLE	COPY_MAP_DATA	578536000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	765593
+SHUFFLE	COMPRESS_BYTE_COUNT	765597
+SHUFFLE	COPY_MAP_DATA	12802000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	797743
+SHUFFLE	COMPRESS_BYTE_COUNT	797747
+SHUFFLE	COPY_MAP_DATA	48277000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	845671
+SHUFFLE	COMPRESS_BYTE_COUNT	845675
+SHUFFLE	COPY_MAP_DATA	238005000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	810112
+SHUFFLE	COMPRESS_BYTE_COUNT	810116
+SHUFFLE	COPY_MAP_DATA	103263000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	910962
+SHUFFLE	COMPRESS_BYTE_COUNT	910966
+SHUFFLE	COPY_MAP_DATA	7815635000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	796628
+SHUFFLE	COMPRESS_BYTE_COUNT	796632
+SHUFFLE	COPY_MAP_DATA	17583000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	818287
+SHUFFLE	COMPRESS_BYTE_COUNT	818291
+SHUFFLE	COPY_MAP_DATA	24791000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	786431
+SHUFFLE	COMPRESS_BYTE_COUNT	786435
+SHUFFLE	COPY_MAP_DATA	15545000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	807630
+SHUFFLE	COMPRESS_BYTE_COUNT	807634
+SHUFFLE	COPY_MAP_DATA	19216000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	834150
+SHUFFLE	COMPRESS_BYTE_COUNT	834154
+SHUFFLE	COPY_MAP_DATA	58112000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	805318
+SHUFFLE	COMPRESS_BYTE_COUNT	805322
+SHUFFLE	COPY_MAP_DATA	61172000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	752641
+SHUFFLE	COMPRESS_BYTE_COUNT	752645
+SHUFFLE	COPY_MAP_DATA	87363000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	874993
+SHUFFLE	COMPRESS_BYTE_COUNT	874997
+SHUFFLE	COPY_MAP_DATA	160818000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	830491
+SHUFFLE	COMPRESS_BYTE_COUNT	830495
+SHUFFLE	COPY_MAP_DATA	55210000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1132066
+SHUFFLE	COMPRESS_BYTE_COUNT	1132070
+SHUFFLE	COPY_MAP_DATA	21606000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	883283
+SHUFFLE	COMPRESS_BYTE_COUNT	883287
+SHUFFLE	COPY_MAP_DATA	8808000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1084351
+SHUFFLE	COMPRESS_BYTE_COUNT	1084355
+SHUFFLE	COPY_MAP_DATA	303853000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	729744
+SHUFFLE	COMPRESS_BYTE_COUNT	729748
+SHUFFLE	COPY_MAP_DATA	8052000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	898475
+SHUFFLE	COMPRESS_BYTE_COUNT	898479
+SHUFFLE	COPY_MAP_DATA	16624000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	761136
+SHUFFLE	COMPRESS_BYTE_COUNT	761140
+SHUFFLE	COPY_MAP_DATA	442988000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	761407
+SHUFFLE	COMPRESS_BYTE_COUNT	761411
+SHUFFLE	COPY_MAP_DATA	17425000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	843688
+SHUFFLE	COMPRESS_BYTE_COUNT	843692
+SHUFFLE	COPY_MAP_DATA	98318000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	755626
+SHUFFLE	COMPRESS_BYTE_COUNT	755630
+SHUFFLE	COPY_MAP_DATA	220272000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	794338
+SHUFFLE	COMPRESS_BYTE_COUNT	794342
+SHUFFLE	COPY_MAP_DATA	37908000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	777383
+SHUFFLE	COMPRESS_BYTE_COUNT	777387
+SHUFFLE	COPY_MAP_DATA	10884000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	834683
+SHUFFLE	COMPRESS_BYTE_COUNT	834687
+SHUFFLE	COPY_MAP_DATA	1204908000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	792714
+SHUFFLE	COMPRESS_BYTE_COUNT	792718
+SHUFFLE	COPY_MAP_DATA	1690465000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	730692
+SHUFFLE	COMPRESS_BYTE_COUNT	730696
+SHUFFLE	COPY_MAP_DATA	16305000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	835615
+SHUFFLE	COMPRESS_BYTE_COUNT	835619
+SHUFFLE	COPY_MAP_DATA	15900000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	948848
+SHUFFLE	COMPRESS_BYTE_COUNT	948852
+SHUFFLE	COPY_MAP_DATA	3032075000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	830188
+SHUFFLE	COMPRESS_BYTE_COUNT	830192
+SHUFFLE	COPY_MAP_DATA	548198000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1059836
+SHUFFLE	COMPRESS_BYTE_COUNT	1059840
+SHUFFLE	COPY_MAP_DATA	17473000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	807579
+SHUFFLE	COMPRESS_BYTE_COUNT	807583
+SHUFFLE	COPY_MAP_DATA	1591214000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	780297
+SHUFFLE	COMPRESS_BYTE_COUNT	780301
+SHUFFLE	COPY_MAP_DATA	16647000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	861576
+SHUFFLE	COMPRESS_BYTE_COUNT	861580
+SHUFFLE	COPY_MAP_DATA	44864000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	831923
+SHUFFLE	COMPRESS_BYTE_COUNT	831927
+SHUFFLE	COPY_MAP_DATA	223281000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	820361
+SHUFFLE	COMPRESS_BYTE_COUNT	820365
+SHUFFLE	COPY_MAP_DATA	15570000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	864353
+SHUFFLE	COMPRESS_BYTE_COUNT	864357
+SHUFFLE	COPY_MAP_DATA	36158000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	897519
+SHUFFLE	COMPRESS_BYTE_COUNT	897523
+SHUFFLE	COPY_MAP_DATA	174296000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	707443
+SHUFFLE	COMPRESS_BYTE_COUNT	707447
+SHUFFLE	COPY_MAP_DATA	618972000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	743096
+SHUFFLE	COMPRESS_BYTE_COUNT	743100
+SHUFFLE	COPY_MAP_DATA	14372000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	862429
+SHUFFLE	COMPRESS_BYTE_COUNT	862433
+SHUFFLE	COPY_MAP_DATA	333968000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	881698
+SHUFFLE	COMPRESS_BYTE_COUNT	881702
+SHUFFLE	COPY_MAP_DATA	1454895000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	795575
+SHUFFLE	COMPRESS_BYTE_COUNT	795579
+SHUFFLE	COPY_MAP_DATA	228610000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	742716
+SHUFFLE	COMPRESS_BYTE_COUNT	742720
+SHUFFLE	COPY_MAP_DATA	214526000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	780663
+SHUFFLE	COMPRESS_BYTE_COUNT	780667
+SHUFFLE	COPY_MAP_DATA	4410529000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	999239
+SHUFFLE	COMPRESS_BYTE_COUNT	999243
+SHUFFLE	COPY_MAP_DATA	458842000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	870438
+SHUFFLE	COMPRESS_BYTE_COUNT	870442
+SHUFFLE	COPY_MAP_DATA	124020000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	755672
+SHUFFLE	COMPRESS_BYTE_COUNT	755676
+SHUFFLE	COPY_MAP_DATA	48822000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	762802
+SHUFFLE	COMPRESS_BYTE_COUNT	762806
+SHUFFLE	COPY_MAP_DATA	15488000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	770808
+SHUFFLE	COMPRESS_BYTE_COUNT	770812
+SHUFFLE	COPY_MAP_DATA	829756000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	707443
+SHUFFLE	COMPRESS_BYTE_COUNT	707447
+SHUFFLE	COPY_MAP_DATA	514331000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	774020
+SHUFFLE	COMPRESS_BYTE_COUNT	774024
+SHUFFLE	COPY_MAP_DATA	24368000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	829990
+SHUFFLE	COMPRESS_BYTE_COUNT	829994
+SHUFFLE	COPY_MAP_DATA	15852000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	842299
+SHUFFLE	COMPRESS_BYTE_COUNT	842303
+SHUFFLE	COPY_MAP_DATA	612031000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	828480
+SHUFFLE	COMPRESS_BYTE_COUNT	828484
+SHUFFLE	COPY_MAP_DATA	19169000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	852461
+SHUFFLE	COMPRESS_BYTE_COUNT	852465
+SHUFFLE	COPY_MAP_DATA	21334000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	943228
+SHUFFLE	COMPRESS_BYTE_COUNT	943232
+SHUFFLE	COPY_MAP_DATA	160703000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	744291
+SHUFFLE	COMPRESS_BYTE_COUNT	744295
+SHUFFLE	COPY_MAP_DATA	1563793000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	662688
+SHUFFLE	COMPRESS_BYTE_COUNT	662692
+SHUFFLE	COPY_MAP_DATA	29834000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	870028
+SHUFFLE	COMPRESS_BYTE_COUNT	870032
+SHUFFLE	COPY_MAP_DATA	18053000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	771776
+SHUFFLE	COMPRESS_BYTE_COUNT	771780
+SHUFFLE	COPY_MAP_DATA	23856000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	936884
+SHUFFLE	COMPRESS_BYTE_COUNT	936888
+SHUFFLE	COPY_MAP_DATA	15013000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	718596
+SHUFFLE	COMPRESS_BYTE_COUNT	718600
+SHUFFLE	COPY_MAP_DATA	21476000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	799851
+SHUFFLE	COMPRESS_BYTE_COUNT	799855
+SHUFFLE	COPY_MAP_DATA	14736000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	862522
+SHUFFLE	COMPRESS_BYTE_COUNT	862526
+SHUFFLE	COPY_MAP_DATA	9277000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	790720
+SHUFFLE	COMPRESS_BYTE_COUNT	790724
+SHUFFLE	COPY_MAP_DATA	57326000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	993772
+SHUFFLE	COMPRESS_BYTE_COUNT	993776
+SHUFFLE	COPY_MAP_DATA	32370000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	736080
+SHUFFLE	COMPRESS_BYTE_COUNT	736084
+SHUFFLE	COPY_MAP_DATA	7448000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	806371
+SHUFFLE	COMPRESS_BYTE_COUNT	806375
+SHUFFLE	COPY_MAP_DATA	13640000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	679412
+SHUFFLE	COMPRESS_BYTE_COUNT	679416
+SHUFFLE	COPY_MAP_DATA	624851000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	935467
+SHUFFLE	COMPRESS_BYTE_COUNT	935471
+SHUFFLE	COPY_MAP_DATA	35615000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	944548
+SHUFFLE	COMPRESS_BYTE_COUNT	944552
+SHUFFLE	COPY_MAP_DATA	16005000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	749285
+SHUFFLE	COMPRESS_BYTE_COUNT	749289
+SHUFFLE	COPY_MAP_DATA	14366000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	768340
+SHUFFLE	COMPRESS_BYTE_COUNT	768344
+SHUFFLE	COPY_MAP_DATA	23394000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	535305
+SHUFFLE	COMPRESS_BYTE_COUNT	535309
+SHUFFLE	COPY_MAP_DATA	12862000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	861725
+SHUFFLE	COMPRESS_BYTE_COUNT	861729
+SHUFFLE	COPY_MAP_DATA	34526000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	849630
+SHUFFLE	COMPRESS_BYTE_COUNT	849634
+SHUFFLE	COPY_MAP_DATA	31840000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	117087585090
+MERGE	READ_WRITE	113065927090
+MERGE	READ_WRITE_COUNT	2
+MERGE	COMBINE	0
+MERGE	WRITE	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	15613657000
+SORT	READ_WRITE	15357699000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	130129936
+REDUCE	SETUP	369000
+REDUCE	SETUP_MEM	130129936
+REDUCE	CLEANUP	44000
+REDUCE	CLEANUP_MEM	125137232
+REDUCE	TOTAL_RUN	113831167000
+REDUCE	READ	12140128000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	94825206000
+REDUCE	WRITE	29517837000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	72952596
+REDUCE	VALUE_BYTE_COUNT	66977304
+REDUCE	REDUCE_MEM	125139280
+REDUCE	WRITE	1329515000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	659866675090
@@ -0,0 +1,1333 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1989147
+SHUFFLE	COMPRESS_BYTE_COUNT	1989151
+SHUFFLE	COPY_MAP_DATA	600111000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1839374
+SHUFFLE	COMPRESS_BYTE_COUNT	1839378
+SHUFFLE	COPY_MAP_DATA	39471000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1743393
+SHUFFLE	COMPRESS_BYTE_COUNT	1743397
+SHUFFLE	COPY_MAP_DATA	36435000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1835737
+SHUFFLE	COMPRESS_BYTE_COUNT	1835741
+SHUFFLE	COPY_MAP_DATA	129075000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1895243
+SHUFFLE	COMPRESS_BYTE_COUNT	1895247
+SHUFFLE	COPY_MAP_DATA	528897000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1903480
+SHUFFLE	COMPRESS_BYTE_COUNT	1903484
+SHUFFLE	COPY_MAP_DATA	56474000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1969735
+SHUFFLE	COMPRESS_BYTE_COUNT	1969739
+SHUFFLE	COPY_MAP_DATA	170046000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1970067
+SHUFFLE	COMPRESS_BYTE_COUNT	1970071
+SHUFFLE	COPY_MAP_DATA	163723000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1984025
+SHUFFLE	COMPRESS_BYTE_COUNT	1984029
+SHUFFLE	COPY_MAP_DATA	60038000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2009779
+SHUFFLE	COMPRESS_BYTE_COUNT	2009783
+SHUFFLE	COPY_MAP_DATA	35934000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1970382
+SHUFFLE	COMPRESS_BYTE_COUNT	1970386
+SHUFFLE	COPY_MAP_DATA	74945000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1980882
+SHUFFLE	COMPRESS_BYTE_COUNT	1980886
+SHUFFLE	COPY_MAP_DATA	30267000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2001322
+SHUFFLE	COMPRESS_BYTE_COUNT	2001326
+SHUFFLE	COPY_MAP_DATA	73163000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2047311
+SHUFFLE	COMPRESS_BYTE_COUNT	2047315
+SHUFFLE	COPY_MAP_DATA	47945000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1647822
+SHUFFLE	COMPRESS_BYTE_COUNT	1647826
+SHUFFLE	COPY_MAP_DATA	56825000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2028448
+SHUFFLE	COMPRESS_BYTE_COUNT	2028452
+SHUFFLE	COPY_MAP_DATA	147849000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1926659
+SHUFFLE	COMPRESS_BYTE_COUNT	1926663
+SHUFFLE	COPY_MAP_DATA	237324000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2008534
+SHUFFLE	COMPRESS_BYTE_COUNT	2008538
+SHUFFLE	COPY_MAP_DATA	22328000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1834109
+SHUFFLE	COMPRESS_BYTE_COUNT	1834113
+SHUFFLE	COPY_MAP_DATA	21720000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1995691
+SHUFFLE	COMPRESS_BYTE_COUNT	1995695
+SHUFFLE	COPY_MAP_DATA	51094000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2098783
+SHUFFLE	COMPRESS_BYTE_COUNT	2098787
+SHUFFLE	COPY_MAP_DATA	55377000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1945211
+SHUFFLE	COMPRESS_BYTE_COUNT	1945215
+SHUFFLE	COPY_MAP_DATA	22842000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2197701
+SHUFFLE	COMPRESS_BYTE_COUNT	2197705
+SHUFFLE	COPY_MAP_DATA	49808000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2121954
+SHUFFLE	COMPRESS_BYTE_COUNT	2121958
+SHUFFLE	COPY_MAP_DATA	107854000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1902632
+SHUFFLE	COMPRESS_BYTE_COUNT	1902636
+SHUFFLE	COPY_MAP_DATA	151065000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1888735
+SHUFFLE	COMPRESS_BYTE_COUNT	1888739
+SHUFFLE	COPY_MAP_DATA	39105000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2006992
+SHUFFLE	COMPRESS_BYTE_COUNT	2006996
+SHUFFLE	COPY_MAP_DATA	3692412000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2031349
+SHUFFLE	COMPRESS_BYTE_COUNT	2031353
+SHUFFLE	COPY_MAP_DATA	1072536000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1987253
+SHUFFLE	COMPRESS_BYTE_COUNT	1987257
+SHUFFLE	COPY_MAP_DATA	247140000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1816028
+SHUFFLE	COMPRESS_BYTE_COUNT	1816032
+SHUFFLE	COPY_MAP_DATA	1555378000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1847499
+SHUFFLE	COMPRESS_BYTE_COUNT	1847503
+SHUFFLE	COPY_MAP_DATA	348014000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1935521
+SHUFFLE	COMPRESS_BYTE_COUNT	1935525
+SHUFFLE	COPY_MAP_DATA	6359904000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1818094
+SHUFFLE	COMPRESS_BYTE_COUNT	1818098
+SHUFFLE	COPY_MAP_DATA	1266157000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1914104
+SHUFFLE	COMPRESS_BYTE_COUNT	1914108
+SHUFFLE	COPY_MAP_DATA	3372639000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2087456
+SHUFFLE	COMPRESS_BYTE_COUNT	2087460
+SHUFFLE	COPY_MAP_DATA	310692000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1830089
+SHUFFLE	COMPRESS_BYTE_COUNT	1830093
+SHUFFLE	COPY_MAP_DATA	49550000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1734349
+SHUFFLE	COMPRESS_BYTE_COUNT	1734353
+SHUFFLE	COPY_MAP_DATA	388936000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1839510
+SHUFFLE	COMPRESS_BYTE_COUNT	1839514
+SHUFFLE	COPY_MAP_DATA	210011000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1844457
+SHUFFLE	COMPRESS_BYTE_COUNT	1844461
+SHUFFLE	COPY_MAP_DATA	41131000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1880209
+SHUFFLE	COMPRESS_BYTE_COUNT	1880213
+SHUFFLE	COPY_MAP_DATA	28269000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1630228
+SHUFFLE	COMPRESS_BYTE_COUNT	1630232
+SHUFFLE	COPY_MAP_DATA	18751000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1949405
+SHUFFLE	COMPRESS_BYTE_COUNT	1949409
+SHUFFLE	COPY_MAP_DATA	22254000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1845922
+SHUFFLE	COMPRESS_BYTE_COUNT	1845926
+SHUFFLE	COPY_MAP_DATA	36007000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1832384
+SHUFFLE	COMPRESS_BYTE_COUNT	1832388
+SHUFFLE	COPY_MAP_DATA	24025000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1851213
+SHUFFLE	COMPRESS_BYTE_COUNT	1851217
+SHUFFLE	COPY_MAP_DATA	33670000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1637641
+SHUFFLE	COMPRESS_BYTE_COUNT	1637645
+SHUFFLE	COPY_MAP_DATA	23320000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1756941
+SHUFFLE	COMPRESS_BYTE_COUNT	1756945
+SHUFFLE	COPY_MAP_DATA	36401000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1969794
+SHUFFLE	COMPRESS_BYTE_COUNT	1969798
+SHUFFLE	COPY_MAP_DATA	960645000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1568132
+SHUFFLE	COMPRESS_BYTE_COUNT	1568136
+SHUFFLE	COPY_MAP_DATA	28491000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1737394
+SHUFFLE	COMPRESS_BYTE_COUNT	1737398
+SHUFFLE	COPY_MAP_DATA	47232000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1871738
+SHUFFLE	COMPRESS_BYTE_COUNT	1871742
+SHUFFLE	COPY_MAP_DATA	1101778000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1944073
+SHUFFLE	COMPRESS_BYTE_COUNT	1944077
+SHUFFLE	COPY_MAP_DATA	830561000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1674004
+SHUFFLE	COMPRESS_BYTE_COUNT	1674008
+SHUFFLE	COPY_MAP_DATA	812127000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2341072
+SHUFFLE	COMPRESS_BYTE_COUNT	2341076
+SHUFFLE	COPY_MAP_DATA	4079608000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1720765
+SHUFFLE	COMPRESS_BYTE_COUNT	1720769
+SHUFFLE	COPY_MAP_DATA	122185000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1817035
+SHUFFLE	COMPRESS_BYTE_COUNT	1817039
+SHUFFLE	COPY_MAP_DATA	140960000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1834346
+SHUFFLE	COMPRESS_BYTE_COUNT	1834350
+SHUFFLE	COPY_MAP_DATA	226924000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1901080
+SHUFFLE	COMPRESS_BYTE_COUNT	1901084
+SHUFFLE	COPY_MAP_DATA	26354000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1746791
+SHUFFLE	COMPRESS_BYTE_COUNT	1746795
+SHUFFLE	COPY_MAP_DATA	341532000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1730096
+SHUFFLE	COMPRESS_BYTE_COUNT	1730100
+SHUFFLE	COPY_MAP_DATA	193592000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1925465
+SHUFFLE	COMPRESS_BYTE_COUNT	1925469
+SHUFFLE	COPY_MAP_DATA	150625000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1538990
+SHUFFLE	COMPRESS_BYTE_COUNT	1538994
+SHUFFLE	COPY_MAP_DATA	31057000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1561991
+SHUFFLE	COMPRESS_BYTE_COUNT	1561995
+SHUFFLE	COPY_MAP_DATA	35735000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1644550
+SHUFFLE	COMPRESS_BYTE_COUNT	1644554
+SHUFFLE	COPY_MAP_DATA	106838000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1641777
+SHUFFLE	COMPRESS_BYTE_COUNT	1641781
+SHUFFLE	COPY_MAP_DATA	56304000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1719088
+SHUFFLE	COMPRESS_BYTE_COUNT	1719092
+SHUFFLE	COPY_MAP_DATA	51560000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1559478
+SHUFFLE	COMPRESS_BYTE_COUNT	1559482
+SHUFFLE	COPY_MAP_DATA	170675000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1615129
+SHUFFLE	COMPRESS_BYTE_COUNT	1615133
+SHUFFLE	COPY_MAP_DATA	1987287000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1720284
+SHUFFLE	COMPRESS_BYTE_COUNT	1720288
+SHUFFLE	COPY_MAP_DATA	14988000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1534694
+SHUFFLE	COMPRESS_BYTE_COUNT	1534698
+SHUFFLE	COPY_MAP_DATA	27050000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1845784
+SHUFFLE	COMPRESS_BYTE_COUNT	1845788
+SHUFFLE	COPY_MAP_DATA	25896000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1510439
+SHUFFLE	COMPRESS_BYTE_COUNT	1510443
+SHUFFLE	COPY_MAP_DATA	1538301000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1658737
+SHUFFLE	COMPRESS_BYTE_COUNT	1658741
+SHUFFLE	COPY_MAP_DATA	45080000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1643144
+SHUFFLE	COMPRESS_BYTE_COUNT	1643148
+SHUFFLE	COPY_MAP_DATA	6588522000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1561300
+SHUFFLE	COMPRESS_BYTE_COUNT	1561304
+SHUFFLE	COPY_MAP_DATA	194391000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1597477
+SHUFFLE	COMPRESS_BYTE_COUNT	1597481
+SHUFFLE	COPY_MAP_DATA	94659000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1828432
+SHUFFLE	COMPRESS_BYTE_COUNT	1828436
+SHUFFLE	COPY_MAP_DATA	369705000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1574042
+SHUFFLE	COMPRESS_BYTE_COUNT	1574046
+SHUFFLE	COPY_MAP_DATA	53213000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1841177
+SHUFFLE	COMPRESS_BYTE_COUNT	1841181
+SHUFFLE	COPY_MAP_DATA	37454000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1685571
+SHUFFLE	COMPRESS_BYTE_COUNT	1685575
+SHUFFLE	COPY_MAP_DATA	44061000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1653326
+SHUFFLE	COMPRESS_BYTE_COUNT	1653330
+SHUFFLE	COPY_MAP_DATA	388288000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1648356
+SHUFFLE	COMPRESS_BYTE_COUNT	1648360
+SHUFFLE	COPY_MAP_DATA	26390000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1606881
+SHUFFLE	COMPRESS_BYTE_COUNT	1606885
+SHUFFLE	COPY_MAP_DATA	3556003000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1773987
+SHUFFLE	COMPRESS_BYTE_COUNT	1773991
+SHUFFLE	COPY_MAP_DATA	24841000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2128816
+SHUFFLE	COMPRESS_BYTE_COUNT	2128820
+SHUFFLE	COPY_MAP_DATA	2123820000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1510570
+SHUFFLE	COMPRESS_BYTE_COUNT	1510574
+SHUFFLE	COPY_MAP_DATA	6427765000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1458858
+SHUFFLE	COMPRESS_BYTE_COUNT	1458862
+SHUFFLE	COPY_MAP_DATA	5618107000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1599612
+SHUFFLE	COMPRESS_BYTE_COUNT	1599616
+SHUFFLE	COPY_MAP_DATA	578742000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1763712
+SHUFFLE	COMPRESS_BYTE_COUNT	1763716
+SHUFFLE	COPY_MAP_DATA	202589000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	788716
+SHUFFLE	COMPRESS_BYTE_COUNT	788720
+SHUFFLE	COPY_MAP_DATA	16399000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	906982
+SHUFFLE	COMPRESS_BYTE_COUNT	906986
+SHUFFLE	COPY_MAP_DATA	5175866000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1583826
+SHUFFLE	COMPRESS_BYTE_COUNT	1583830
+SHUFFLE	COPY_MAP_DATA	25988000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1544055
+SHUFFLE	COMPRESS_BYTE_COUNT	1544059
+SHUFFLE	COPY_MAP_DATA	102347000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	859108
+SHUFFLE	COMPRESS_BYTE_COUNT	859112
+SHUFFLE	COPY_MAP_DATA	27618000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	993831
+SHUFFLE	COMPRESS_BYTE_COUNT	993835
+SHUFFLE	COPY_MAP_DATA	17862000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1829349
+SHUFFLE	COMPRESS_BYTE_COUNT	1829353
+SHUFFLE	COPY_MAP_DATA	2417152000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1461746
+SHUFFLE	COMPRESS_BYTE_COUNT	1461750
+SHUFFLE	COPY_MAP_DATA	142606000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	836413
+SHUFFLE	COMPRESS_BYTE_COUNT	836417
+SHUFFLE	COPY_MAP_DATA	371351000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1038107
+SHUFFLE	COMPRESS_BYTE_COUNT	1038111
+SHUFFLE	COPY_MAP_DATA	57327000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1784237
+SHUFFLE	COMPRESS_BYTE_COUNT	1784241
+SHUFFLE	COPY_MAP_DATA	36629000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1744648
+SHUFFLE	COMPRESS_BYTE_COUNT	1744652
+SHUFFLE	COPY_MAP_DATA	25718000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1472817
+SHUFFLE	COMPRESS_BYTE_COUNT	1472821
+SHUFFLE	COPY_MAP_DATA	25952000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1776271
+SHUFFLE	COMPRESS_BYTE_COUNT	1776275
+SHUFFLE	COPY_MAP_DATA	98156000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1639242
+SHUFFLE	COMPRESS_BYTE_COUNT	1639246
+SHUFFLE	COPY_MAP_DATA	22270000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1676229
+SHUFFLE	COMPRESS_BYTE_COUNT	1676233
+SHUFFLE	COPY_MAP_DATA	23247000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1011291
+SHUFFLE	COMPRESS_BYTE_COUNT	1011295
+SHUFFLE	COPY_MAP_DATA	30333000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1611676
+SHUFFLE	COMPRESS_BYTE_COUNT	1611680
+SHUFFLE	COPY_MAP_DATA	29430000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	967621
+SHUFFLE	COMPRESS_BYTE_COUNT	967625
+SHUFFLE	COPY_MAP_DATA	32875000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1019634
+SHUFFLE	COMPRESS_BYTE_COUNT	1019638
+SHUFFLE	COPY_MAP_DATA	20216000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1037227
+SHUFFLE	COMPRESS_BYTE_COUNT	1037231
+SHUFFLE	COPY_MAP_DATA	773250000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1692303
+SHUFFLE	COMPRESS_BYTE_COUNT	1692307
+SHUFFLE	COPY_MAP_DATA	277732000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1716975
+SHUFFLE	COMPRESS_BYTE_COUNT	1716979
+SHUFFLE	COPY_MAP_DATA	30767000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1533417
+SHUFFLE	COMPRESS_BYTE_COUNT	1533421
+SHUFFLE	COPY_MAP_DATA	12352000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	3051515
+SHUFFLE	COMPRESS_BYTE_COUNT	3051519
+SHUFFLE	COPY_MAP_DATA	2006974000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	964097
+SHUFFLE	COMPRESS_BYTE_COUNT	964101
+SHUFFLE	COPY_MAP_DATA	1440856000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1689524
+SHUFFLE	COMPRESS_BYTE_COUNT	1689528
+SHUFFLE	COPY_MAP_DATA	297911000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1060678
+SHUFFLE	COMPRESS_BYTE_COUNT	1060682
+SHUFFLE	COPY_MAP_DATA	19340000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	960322
+SHUFFLE	COMPRESS_BYTE_COUNT	960326
+SHUFFLE	COPY_MAP_DATA	47029000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1600383
+SHUFFLE	COMPRESS_BYTE_COUNT	1600387
+SHUFFLE	COPY_MAP_DATA	92169000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1600963
+SHUFFLE	COMPRESS_BYTE_COUNT	1600967
+SHUFFLE	COPY_MAP_DATA	178253000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	988219
+SHUFFLE	COMPRESS_BYTE_COUNT	988223
+SHUFFLE	COPY_MAP_DATA	1334642000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	980680
+SHUFFLE	COMPRESS_BYTE_COUNT	980684
+SHUFFLE	COPY_MAP_DATA	50193000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	998424
+SHUFFLE	COMPRESS_BYTE_COUNT	998428
+SHUFFLE	COPY_MAP_DATA	113425000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1020196
+SHUFFLE	COMPRESS_BYTE_COUNT	1020200
+SHUFFLE	COPY_MAP_DATA	109594000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1040231
+SHUFFLE	COMPRESS_BYTE_COUNT	1040235
+SHUFFLE	COPY_MAP_DATA	21025000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	990188
+SHUFFLE	COMPRESS_BYTE_COUNT	990192
+SHUFFLE	COPY_MAP_DATA	108459000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	975658
+SHUFFLE	COMPRESS_BYTE_COUNT	975662
+SHUFFLE	COPY_MAP_DATA	16206000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	822199
+SHUFFLE	COMPRESS_BYTE_COUNT	822203
+SHUFFLE	COPY_MAP_DATA	27371000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	929201
+SHUFFLE	COMPRESS_BYTE_COUNT	929205
+SHUFFLE	COPY_MAP_DATA	10577000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	920910
+SHUFFLE	COMPRESS_BYTE_COUNT	920914
+SHUFFLE	COPY_MAP_DATA	10063000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	995703
+SHUFFLE	COMPRESS_BYTE_COUNT	995707
+SHUFFLE	COPY_MAP_DATA	33003000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	993839
+SHUFFLE	COMPRESS_BYTE_COUNT	993843
+SHUFFLE	COPY_MAP_DATA	16233000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	966044
+SHUFFLE	COMPRESS_BYTE_COUNT	966048
+SHUFFLE	COPY_MAP_DATA	17485000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1032545
+SHUFFLE	COMPRESS_BYTE_COUNT	1032549
+SHUFFLE	COPY_MAP_DATA	135462000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	974882
+SHUFFLE	COMPRESS_BYTE_COUNT	974886
+SHUFFLE	COPY_MAP_DATA	26393000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	995502
+SHUFFLE	COMPRESS_BYTE_COUNT	995506
+SHUFFLE	COPY_MAP_DATA	26927000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1011405
+SHUFFLE	COMPRESS_BYTE_COUNT	1011409
+SHUFFLE	COPY_MAP_DATA	19164000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1021470
+SHUFFLE	COMPRESS_BYTE_COUNT	1021474
+SHUFFLE	COPY_MAP_DATA	20303000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1009415
+SHUFFLE	COMPRESS_BYTE_COUNT	1009419
+SHUFFLE	COPY_MAP_DATA	194719000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1564536
+SHUFFLE	COMPRESS_BYTE_COUNT	1564540
+SHUFFLE	COPY_MAP_DATA	11795700000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1011357
+SHUFFLE	COMPRESS_BYTE_COUNT	1011361
+SHUFFLE	COPY_MAP_DATA	33599000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	959865
+SHUFFLE	COMPRESS_BYTE_COUNT	959869
+SHUFFLE	COPY_MAP_DATA	35802000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	997131
+SHUFFLE	COMPRESS_BYTE_COUNT	997135
+SHUFFLE	COPY_MAP_DATA	200227000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1101760
+SHUFFLE	COMPRESS_BYTE_COUNT	1101764
+SHUFFLE	COPY_MAP_DATA	1025873000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	972429
+SHUFFLE	COMPRESS_BYTE_COUNT	972433
+SHUFFLE	COPY_MAP_DATA	18430000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	984827
+SHUFFLE	COMPRESS_BYTE_COUNT	984831
+SHUFFLE	COPY_MAP_DATA	226510000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	981923
+SHUFFLE	COMPRESS_BYTE_COUNT	981927
+SHUFFLE	COPY_MAP_DATA	711930000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	970519
+SHUFFLE	COMPRESS_BYTE_COUNT	970523
+SHUFFLE	COPY_MAP_DATA	148295000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	998945
+SHUFFLE	COMPRESS_BYTE_COUNT	998949
+SHUFFLE	COPY_MAP_DATA	13679000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1040040
+SHUFFLE	COMPRESS_BYTE_COUNT	1040044
+SHUFFLE	COPY_MAP_DATA	337949000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1165158
+SHUFFLE	COMPRESS_BYTE_COUNT	1165162
+SHUFFLE	COPY_MAP_DATA	307668000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1025843
+SHUFFLE	COMPRESS_BYTE_COUNT	1025847
+SHUFFLE	COPY_MAP_DATA	19410000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1025174
+SHUFFLE	COMPRESS_BYTE_COUNT	1025178
+SHUFFLE	COPY_MAP_DATA	773106000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	927409
+SHUFFLE	COMPRESS_BYTE_COUNT	927413
+SHUFFLE	COPY_MAP_DATA	16976000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	934409
+SHUFFLE	COMPRESS_BYTE_COUNT	934413
+SHUFFLE	COPY_MAP_DATA	152857000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	960725
+SHUFFLE	COMPRESS_BYTE_COUNT	960729
+SHUFFLE	COPY_MAP_DATA	97226000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1074560
+SHUFFLE	COMPRESS_BYTE_COUNT	1074564
+SHUFFLE	COPY_MAP_DATA	10144000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	922802
+SHUFFLE	COMPRESS_BYTE_COUNT	922806
+SHUFFLE	COPY_MAP_DATA	17738000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	991311
+SHUFFLE	COMPRESS_BYTE_COUNT	991315
+SHUFFLE	COPY_MAP_DATA	20525000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	991795
+SHUFFLE	COMPRESS_BYTE_COUNT	991799
+SHUFFLE	COPY_MAP_DATA	91533000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	981939
+SHUFFLE	COMPRESS_BYTE_COUNT	981943
+SHUFFLE	COPY_MAP_DATA	501693000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1005403
+SHUFFLE	COMPRESS_BYTE_COUNT	1005407
+SHUFFLE	COPY_MAP_DATA	36234000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1011683
+SHUFFLE	COMPRESS_BYTE_COUNT	1011687
+SHUFFLE	COPY_MAP_DATA	20812000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	938221
+SHUFFLE	COMPRESS_BYTE_COUNT	938225
+SHUFFLE	COPY_MAP_DATA	16448000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1012898
+SHUFFLE	COMPRESS_BYTE_COUNT	1012902
+SHUFFLE	COPY_MAP_DATA	357389000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1054935
+SHUFFLE	COMPRESS_BYTE_COUNT	1054939
+SHUFFLE	COPY_MAP_DATA	196722000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	967827
+SHUFFLE	COMPRESS_BYTE_COUNT	967831
+SHUFFLE	COPY_MAP_DATA	22517000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	944004
+SHUFFLE	COMPRESS_BYTE_COUNT	944008
+SHUFFLE	COPY_MAP_DATA	10167000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	978001
+SHUFFLE	COMPRESS_BYTE_COUNT	978005
+SHUFFLE	COPY_MAP_DATA	21368000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	967487
+SHUFFLE	COMPRESS_BYTE_COUNT	967491
+SHUFFLE	COPY_MAP_DATA	54029000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	904967
+SHUFFLE	COMPRESS_BYTE_COUNT	904971
+SHUFFLE	COPY_MAP_DATA	16680000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	986697
+SHUFFLE	COMPRESS_BYTE_COUNT	986701
+SHUFFLE	COPY_MAP_DATA	23276000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	900764
+SHUFFLE	COMPRESS_BYTE_COUNT	900768
+SHUFFLE	COPY_MAP_DATA	238379000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	977466
+SHUFFLE	COMPRESS_BYTE_COUNT	977470
+SHUFFLE	COPY_MAP_DATA	335405000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	941834
+SHUFFLE	COMPRESS_BYTE_COUNT	941838
+SHUFFLE	COPY_MAP_DATA	91088000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	988146
+SHUFFLE	COMPRESS_BYTE_COUNT	988150
+SHUFFLE	COPY_MAP_DATA	454134000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	960200
+SHUFFLE	COMPRESS_BYTE_COUNT	960204
+SHUFFLE	COPY_MAP_DATA	18082000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	946737
+SHUFFLE	COMPRESS_BYTE_COUNT	946741
+SHUFFLE	COPY_MAP_DATA	20168000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	983350
+SHUFFLE	COMPRESS_BYTE_COUNT	983354
+SHUFFLE	COPY_MAP_DATA	229584000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	912724
+SHUFFLE	COMPRESS_BYTE_COUNT	912728
+SHUFFLE	COPY_MAP_DATA	345786000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	942434
+SHUFFLE	COMPRESS_BYTE_COUNT	942438
+SHUFFLE	COPY_MAP_DATA	57559000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	891758
+SHUFFLE	COMPRESS_BYTE_COUNT	891762
+SHUFFLE	COPY_MAP_DATA	300023000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	942353
+SHUFFLE	COMPRESS_BYTE_COUNT	942357
+SHUFFLE	COPY_MAP_DATA	994571000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	947859
+SHUFFLE	COMPRESS_BYTE_COUNT	947863
+SHUFFLE	COPY_MAP_DATA	25293000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	972784
+SHUFFLE	COMPRESS_BYTE_COUNT	972788
+SHUFFLE	COPY_MAP_DATA	17777000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	920321
+SHUFFLE	COMPRESS_BYTE_COUNT	920325
+SHUFFLE	COPY_MAP_DATA	131239000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	886489
+SHUFFLE	COMPRESS_BYTE_COUNT	886493
+SHUFFLE	COPY_MAP_DATA	20189000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	933037
+SHUFFLE	COMPRESS_BYTE_COUNT	933041
+SHUFFLE	COPY_MAP_DATA	22070000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	922106
+SHUFFLE	COMPRESS_BYTE_COUNT	922110
+SHUFFLE	COPY_MAP_DATA	19249000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	945941
+SHUFFLE	COMPRESS_BYTE_COUNT	945945
+SHUFFLE	COPY_MAP_DATA	20550000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	901078
+SHUFFLE	COMPRESS_BYTE_COUNT	901082
+SHUFFLE	COPY_MAP_DATA	20052000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	897915
+SHUFFLE	COMPRESS_BYTE_COUNT	897919
+SHUFFLE	COPY_MAP_DATA	498287000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	911422
+SHUFFLE	COMPRESS_BYTE_COUNT	911426
+SHUFFLE	COPY_MAP_DATA	15237000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	933602
+SHUFFLE	COMPRESS_BYTE_COUNT	933606
+SHUFFLE	COPY_MAP_DATA	15553000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	930894
+SHUFFLE	COMPRESS_BYTE_COUNT	930898
+SHUFFLE	COPY_MAP_DATA	8525000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	879875
+SHUFFLE	COMPRESS_BYTE_COUNT	879879
+SHUFFLE	COPY_MAP_DATA	18303000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	899625
+SHUFFLE	COMPRESS_BYTE_COUNT	899629
+SHUFFLE	COPY_MAP_DATA	39394000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	889013
+SHUFFLE	COMPRESS_BYTE_COUNT	889017
+SHUFFLE	COPY_MAP_DATA	34529000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	922272
+SHUFFLE	COMPRESS_BYTE_COUNT	922276
+SHUFFLE	COPY_MAP_DATA	27725000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	888020
+SHUFFLE	COMPRESS_BYTE_COUNT	888024
+SHUFFLE	COPY_MAP_DATA	121721000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	917240
+SHUFFLE	COMPRESS_BYTE_COUNT	917244
+SHUFFLE	COPY_MAP_DATA	2303297000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	932895
+SHUFFLE	COMPRESS_BYTE_COUNT	932899
+SHUFFLE	COPY_MAP_DATA	1794206000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	902152
+SHUFFLE	COMPRESS_BYTE_COUNT	902156
+SHUFFLE	COPY_MAP_DATA	599957000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	948668
+SHUFFLE	COMPRESS_BYTE_COUNT	948672
+SHUFFLE	COPY_MAP_DATA	1067915000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	859638
+SHUFFLE	COMPRESS_BYTE_COUNT	859642
+SHUFFLE	COPY_MAP_DATA	3563442000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	923072
+SHUFFLE	COMPRESS_BYTE_COUNT	923076
+SHUFFLE	COPY_MAP_DATA	616627000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	841114
+SHUFFLE	COMPRESS_BYTE_COUNT	841118
+SHUFFLE	COPY_MAP_DATA	18689000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	880167
+SHUFFLE	COMPRESS_BYTE_COUNT	880171
+SHUFFLE	COPY_MAP_DATA	14797000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	899983
+SHUFFLE	COMPRESS_BYTE_COUNT	899987
+SHUFFLE	COPY_MAP_DATA	157310000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	884142
+SHUFFLE	COMPRESS_BYTE_COUNT	884146
+SHUFFLE	COPY_MAP_DATA	749408000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	799523
+SHUFFLE	COMPRESS_BYTE_COUNT	799527
+SHUFFLE	COPY_MAP_DATA	29711000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	829020
+SHUFFLE	COMPRESS_BYTE_COUNT	829024
+SHUFFLE	COPY_MAP_DATA	108905000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	857780
+SHUFFLE	COMPRESS_BYTE_COUNT	857784
+SHUFFLE	COPY_MAP_DATA	25649000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	840985
+SHUFFLE	COMPRESS_BYTE_COUNT	840989
+SHUFFLE	COPY_MAP_DATA	16984000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	832199
+SHUFFLE	COMPRESS_BYTE_COUNT	832203
+SHUFFLE	COPY_MAP_DATA	140863000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	937824
+SHUFFLE	COMPRESS_BYTE_COUNT	937828
+SHUFFLE	COPY_MAP_DATA	103352000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	850990
+SHUFFLE	COMPRESS_BYTE_COUNT	850994
+SHUFFLE	COPY_MAP_DATA	11637000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	832945
+SHUFFLE	COMPRESS_BYTE_COUNT	832949
+SHUFFLE	COPY_MAP_DATA	13007000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	907985
+SHUFFLE	COMPRESS_BYTE_COUNT	907989
+SHUFFLE	COPY_MAP_DATA	3839468000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	849376
+SHUFFLE	COMPRESS_BYTE_COUNT	849380
+SHUFFLE	COPY_MAP_DATA	18293000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	807959
+SHUFFLE	COMPRESS_BYTE_COUNT	807963
+SHUFFLE	COPY_MAP_DATA	18871000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	967480
+SHUFFLE	COMPRESS_BYTE_COUNT	967484
+SHUFFLE	COPY_MAP_DATA	6986000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	829828
+SHUFFLE	COMPRESS_BYTE_COUNT	829832
+SHUFFLE	COPY_MAP_DATA	692340000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	867787
+SHUFFLE	COMPRESS_BYTE_COUNT	867791
+SHUFFLE	COPY_MAP_DATA	113261000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	783911
+SHUFFLE	COMPRESS_BYTE_COUNT	783915
+SHUFFLE	COPY_MAP_DATA	20587000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	835567
+SHUFFLE	COMPRESS_BYTE_COUNT	835571
+SHUFFLE	COPY_MAP_DATA	16782000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1302869
+SHUFFLE	COMPRESS_BYTE_COUNT	1302873
+SHUFFLE	COPY_MAP_DATA	22034000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	812496
+SHUFFLE	COMPRESS_BYTE_COUNT	812500
+SHUFFLE	COPY_MAP_DATA	35236000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	785080
+SHUFFLE	COMPRESS_BYTE_COUNT	785084
+SHUFFLE	COPY_MAP_DATA	18600000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	855875
+SHUFFLE	COMPRESS_BYTE_COUNT	855879
+SHUFFLE	COPY_MAP_DATA	89652000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	991272
+SHUFFLE	COMPRESS_BYTE_COUNT	991276
+SHUFFLE	COPY_MAP_DATA	34444000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	835382
+SHUFFLE	COMPRESS_BYTE_COUNT	835386
+SHUFFLE	COPY_MAP_DATA	19357000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	876776
+SHUFFLE	COMPRESS_BYTE_COUNT	876780
+SHUFFLE	COPY_MAP_DATA	1286365000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	929577
+SHUFFLE	COMPRESS_BYTE_COUNT	929581
+SHUFFLE	COPY_MAP_DATA	759472000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	830707
+SHUFFLE	COMPRESS_BYTE_COUNT	830711
+SHUFFLE	COPY_MAP_DATA	381113000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	834917
+SHUFFLE	COMPRESS_BYTE_COUNT	834921
+SHUFFLE	COPY_MAP_DATA	389620000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	864411
+SHUFFLE	COMPRESS_BYTE_COUNT	864415
+SHUFFLE	COPY_MAP_DATA	164548000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	794668
+SHUFFLE	COMPRESS_BYTE_COUNT	794672
+SHUFFLE	COPY_MAP_DATA	352598000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	745724
+SHUFFLE	COMPRESS_BYTE_COUNT	745728
+SHUFFLE	COPY_MAP_DATA	155034000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	946161
+SHUFFLE	COMPRESS_BYTE_COUNT	946165
+SHUFFLE	COPY_MAP_DATA	396036000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	844178
+SHUFFLE	COMPRESS_BYTE_COUNT	844182
+SHUFFLE	COPY_MAP_DATA	21147000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1142328
+SHUFFLE	COMPRESS_BYTE_COUNT	1142332
+SHUFFLE	COPY_MAP_DATA	40156000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	816076
+SHUFFLE	COMPRESS_BYTE_COUNT	816080
+SHUFFLE	COPY_MAP_DATA	14706000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	839560
+SHUFFLE	COMPRESS_BYTE_COUNT	839564
+SHUFFLE	COPY_MAP_DATA	1070410000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	938607
+SHUFFLE	COMPRESS_BYTE_COUNT	938611
+SHUFFLE	COPY_MAP_DATA	32686000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	791190
+SHUFFLE	COMPRESS_BYTE_COUNT	791194
+SHUFFLE	COPY_MAP_DATA	37390000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	862491
+SHUFFLE	COMPRESS_BYTE_COUNT	862495
+SHUFFLE	COPY_MAP_DATA	16950000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	734632
+SHUFFLE	COMPRESS_BYTE_COUNT	734636
+SHUFFLE	COPY_MAP_DATA	104990000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	847731
+SHUFFLE	COMPRESS_BYTE_COUNT	847735
+SHUFFLE	COPY_MAP_DATA	776559000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	756185
+SHUFFLE	COMPRESS_BYTE_COUNT	756189
+SHUFFLE	COPY_MAP_DATA	3347685000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	792126
+SHUFFLE	COMPRESS_BYTE_COUNT	792130
+SHUFFLE	COPY_MAP_DATA	25000000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	869497
+SHUFFLE	COMPRESS_BYTE_COUNT	869501
+SHUFFLE	COPY_MAP_DATA	491511000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	776008
+SHUFFLE	COMPRESS_BYTE_COUNT	776012
+SHUFFLE	COPY_MAP_DATA	14152000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	786139
+SHUFFLE	COMPRESS_BYTE_COUNT	786143
+SHUFFLE	COPY_MAP_DATA	205240000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	775359
+SHUFFLE	COMPRESS_BYTE_COUNT	775363
+SHUFFLE	COPY_MAP_DATA	17546000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	806020
+SHUFFLE	COMPRESS_BYTE_COUNT	806024
+SHUFFLE	COPY_MAP_DATA	13462000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	771170
+SHUFFLE	COMPRESS_BYTE_COUNT	771174
+SHUFFLE	COPY_MAP_DATA	17239000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	778005
+SHUFFLE	COMPRESS_BYTE_COUNT	778009
+SHUFFLE	COPY_MAP_DATA	22398000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	813475
+SHUFFLE	COMPRESS_BYTE_COUNT	813479
+SHUFFLE	COPY_MAP_DATA	621240000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	872251
+SHUFFLE	COMPRESS_BYTE_COUNT	872255
+SHUFFLE	COPY_MAP_DATA	489728000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	805808
+SHUFFLE	COMPRESS_BYTE_COUNT	805812
+SHUFFLE	COPY_MAP_DATA	494798000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	986490
+SHUFFLE	COMPRESS_BYTE_COUNT	986494
+SHUFFLE	COPY_MAP_DATA	24348000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	936545
+SHUFFLE	COMPRESS_BYTE_COUNT	936549
+SHUFFLE	COPY_MAP_DATA	470336000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1140387
+SHUFFLE	COMPRESS_BYTE_COUNT	1140391
+SHUFFLE	COPY_MAP_DATA	11872000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	727245
+SHUFFLE	COMPRESS_BYTE_COUNT	727249
+SHUFFLE	COPY_MAP_DATA	165755000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1020475
+SHUFFLE	COMPRESS_BYTE_COUNT	1020479
+SHUFFLE	COPY_MAP_DATA	22254000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	854435
+SHUFFLE	COMPRESS_BYTE_COUNT	854439
+SHUFFLE	COPY_MAP_DATA	17207000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	778935
+SHUFFLE	COMPRESS_BYTE_COUNT	778939
+SHUFFLE	COPY_MAP_DATA	1533724000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	769947
+SHUFFLE	COMPRESS_BYTE_COUNT	769951
+SHUFFLE	COPY_MAP_DATA	91399000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	743681
+SHUFFLE	COMPRESS_BYTE_COUNT	743685
+SHUFFLE	COPY_MAP_DATA	14274000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	748557
+SHUFFLE	COMPRESS_BYTE_COUNT	748561
+SHUFFLE	COPY_MAP_DATA	133509000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	755425
+SHUFFLE	COMPRESS_BYTE_COUNT	755429
+SHUFFLE	COPY_MAP_DATA	16297000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	753460
+SHUFFLE	COMPRESS_BYTE_COUNT	753464
+SHUFFLE	COPY_MAP_DATA	8621000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	795109
+SHUFFLE	COMPRESS_BYTE_COUNT	795113
+SHUFFLE	COPY_MAP_DATA	938305000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	796821
+SHUFFLE	COMPRESS_BYTE_COUNT	796825
+SHUFFLE	COPY_MAP_DATA	17929000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	780214
+SHUFFLE	COMPRESS_BYTE_COUNT	780218
+SHUFFLE	COPY_MAP_DATA	54384000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	831549
+SHUFFLE	COMPRESS_BYTE_COUNT	831553
+SHUFFLE	COPY_MAP_DATA	16710000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	785573
+SHUFFLE	COMPRESS_BYTE_COUNT	785577
+SHUFFLE	COPY_MAP_DATA	73156000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	938856
+SHUFFLE	COMPRESS_BYTE_COUNT	938860
+SHUFFLE	COPY_MAP_DATA	3545913000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	744324
+SHUFFLE	COMPRESS_BYTE_COUNT	744328
+SHUFFLE	COPY_MAP_DATA	16135000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	796248
+SHUFFLE	COMPRESS_BYTE_COUNT	796252
+SHUFFLE	COPY_MAP_DATA	2941598000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	815141
+SHUFFLE	COMPRESS_BYTE_COUNT	815145
+SHUFFLE	COPY_MAP_DATA	61455000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	782338
+SHUFFLE	COMPRESS_BYTE_COUNT	782342
+SHUFFLE	COPY_MAP_DATA	19532000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	867755
+SHUFFLE	COMPRESS_BYTE_COUNT	867759
+SHUFFLE	COPY_MAP_DATA	19190000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	737169
+SHUFFLE	COMPRESS_BYTE_COUNT	737173
+SHUFFLE	COPY_MAP_DATA	1142554000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	766854
+SHUFFLE	COMPRESS_BYTE_COUNT	766858
+SHUFFLE	COPY_MAP_DATA	145528000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	883523
+SHUFFLE	COMPRESS_BYTE_COUNT	883527
+SHUFFLE	COPY_MAP_DATA	163316000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	915410
+SHUFFLE	COMPRESS_BYTE_COUNT	915414
+SHUFFLE	COPY_MAP_DATA	18881000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	747827
+SHUFFLE	COMPRESS_BYTE_COUNT	747831
+SHUFFLE	COPY_MAP_DATA	11370000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	857977
+SHUFFLE	COMPRESS_BYTE_COUNT	857981
+SHUFFLE	COPY_MAP_DATA	68145000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	739271
+SHUFFLE	COMPRESS_BYTE_COUNT	739275
+SHUFFLE	COPY_MAP_DATA	95809000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	836671
+SHUFFLE	COMPRESS_BYTE_COUNT	836675
+SHUFFLE	COPY_MAP_DATA	8191000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	774919
+SHUFFLE	COMPRESS_BYTE_COUNT	774923
+SHUFFLE	COPY_MAP_DATA	6701313000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	868791
+SHUFFLE	COMPRESS_BYTE_COUNT	868795
+SHUFFLE	COPY_MAP_DATA	250696000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1085754
+SHUFFLE	COMPRESS_BYTE_COUNT	1085758
+SHUFFLE	COPY_MAP_DATA	444728000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	691801
+SHUFFLE	COMPRESS_BYTE_COUNT	691805
+SHUFFLE	COPY_MAP_DATA	319826000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	785371
+SHUFFLE	COMPRESS_BYTE_COUNT	785375
+SHUFFLE	COPY_MAP_DATA	77857000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	737169
+SHUFFLE	COMPRESS_BYTE_COUNT	737173
+SHUFFLE	COPY_MAP_DATA	23794000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	752225
+SHUFFLE	COMPRESS_BYTE_COUNT	752229
+SHUFFLE	COPY_MAP_DATA	14842000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	883997
+SHUFFLE	COMPRESS_BYTE_COUNT	884001
+SHUFFLE	COPY_MAP_DATA	240868000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	815413
+SHUFFLE	COMPRESS_BYTE_COUNT	815417
+SHUFFLE	COPY_MAP_DATA	13452000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	752408
+SHUFFLE	COMPRESS_BYTE_COUNT	752412
+SHUFFLE	COPY_MAP_DATA	14504000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	816812
+SHUFFLE	COMPRESS_BYTE_COUNT	816816
+SHUFFLE	COPY_MAP_DATA	89169000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	763107
+SHUFFLE	COMPRESS_BYTE_COUNT	763111
+SHUFFLE	COPY_MAP_DATA	13456000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	848571
+SHUFFLE	COMPRESS_BYTE_COUNT	848575
+SHUFFLE	COPY_MAP_DATA	17380000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	837417
+SHUFFLE	COMPRESS_BYTE_COUNT	837421
+SHUFFLE	COPY_MAP_DATA	18873000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1286139
+SHUFFLE	COMPRESS_BYTE_COUNT	1286143
+SHUFFLE	COPY_MAP_DATA	38975000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	832760
+SHUFFLE	COMPRESS_BYTE_COUNT	832764
+SHUFFLE	COPY_MAP_DATA	9116000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	771332
+SHUFFLE	COMPRESS_BYTE_COUNT	771336
+SHUFFLE	COPY_MAP_DATA	15522000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	713136
+SHUFFLE	COMPRESS_BYTE_COUNT	713140
+SHUFFLE	COPY_MAP_DATA	15075000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	825466
+SHUFFLE	COMPRESS_BYTE_COUNT	825470
+SHUFFLE	COPY_MAP_DATA	15651000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	770453
+SHUFFLE	COMPRESS_BYTE_COUNT	770457
+SHUFFLE	COPY_MAP_DATA	14393000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	847694
+SHUFFLE	COMPRESS_BYTE_COUNT	847698
+SHUFFLE	COPY_MAP_DATA	1986497000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	797205
+SHUFFLE	COMPRESS_BYTE_COUNT	797209
+SHUFFLE	COPY_MAP_DATA	16905000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	829240
+SHUFFLE	COMPRESS_BYTE_COUNT	829244
+SHUFFLE	COPY_MAP_DATA	596261000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	848557
+SHUFFLE	COMPRESS_BYTE_COUNT	848561
+SHUFFLE	COPY_MAP_DATA	278984000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	800794
+SHUFFLE	COMPRESS_BYTE_COUNT	800798
+SHUFFLE	COPY_MAP_DATA	515249000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	767333
+SHUFFLE	COMPRESS_BYTE_COUNT	767337
+SHUFFLE	COPY_MAP_DATA	13629000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	687448
+SHUFFLE	COMPRESS_BYTE_COUNT	687452
+SHUFFLE	COPY_MAP_DATA	134427000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	766891
+SHUFFLE	COMPRESS_BYTE_COUNT	766895
+SHUFFLE	COPY_MAP_DATA	416737000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	781194
+SHUFFLE	COMPRESS_BYTE_COUNT	781198
+SHUFFLE	COPY_MAP_DATA	534067000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	945354
+SHUFFLE	COMPRESS_BYTE_COUNT	945358
+SHUFFLE	COPY_MAP_DATA	16732000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	979803
+SHUFFLE	COMPRESS_BYTE_COUNT	979807
+SHUFFLE	COPY_MAP_DATA	18846000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1748648
+SHUFFLE	COMPRESS_BYTE_COUNT	1748652
+SHUFFLE	COPY_MAP_DATA	78881000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	862542
+SHUFFLE	COMPRESS_BYTE_COUNT	862546
+SHUFFLE	COPY_MAP_DATA	7871000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	841315
+SHUFFLE	COMPRESS_BYTE_COUNT	841319
+SHUFFLE	COPY_MAP_DATA	24539000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	108372555000
+MERGE	READ_WRITE	107834876000
+MERGE	READ_WRITE_COUNT	2
+MERGE	COMBINE	0
+MERGE	WRITE	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	16339757000
+SORT	READ_WRITE	16182694000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	145393152
+REDUCE	SETUP	278000
+REDUCE	SETUP_MEM	145393152
+REDUCE	CLEANUP	45000
+REDUCE	CLEANUP_MEM	164866872
+REDUCE	TOTAL_RUN	108117102000
+REDUCE	READ	9502391000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	91881770000
+REDUCE	WRITE	29811655000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	73041438
+REDUCE	VALUE_BYTE_COUNT	65151560
+REDUCE	REDUCE_MEM	164866872
+REDUCE	WRITE	28483000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	649503947315
@@ -0,0 +1,1333 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2083521
+SHUFFLE	COMPRESS_BYTE_COUNT	2083525
+SHUFFLE	COPY_MAP_DATA	606586000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2135497
+SHUFFLE	COMPRESS_BYTE_COUNT	2135501
+SHUFFLE	COPY_MAP_DATA	41655000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1970596
+SHUFFLE	COMPRESS_BYTE_COUNT	1970600
+SHUFFLE	COPY_MAP_DATA	32786000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2095089
+SHUFFLE	COMPRESS_BYTE_COUNT	2095093
+SHUFFLE	COPY_MAP_DATA	89673000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1728021
+SHUFFLE	COMPRESS_BYTE_COUNT	1728025
+SHUFFLE	COPY_MAP_DATA	48356000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1817438
+SHUFFLE	COMPRESS_BYTE_COUNT	1817442
+SHUFFLE	COPY_MAP_DATA	72962000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1864911
+SHUFFLE	COMPRESS_BYTE_COUNT	1864915
+SHUFFLE	COPY_MAP_DATA	33137000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1966418
+SHUFFLE	COMPRESS_BYTE_COUNT	1966422
+SHUFFLE	COPY_MAP_DATA	80348000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2040428
+SHUFFLE	COMPRESS_BYTE_COUNT	2040432
+SHUFFLE	COPY_MAP_DATA	171783000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1974020
+SHUFFLE	COMPRESS_BYTE_COUNT	1974024
+SHUFFLE	COPY_MAP_DATA	26051000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2053460
+SHUFFLE	COMPRESS_BYTE_COUNT	2053464
+SHUFFLE	COPY_MAP_DATA	110676000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1970676
+SHUFFLE	COMPRESS_BYTE_COUNT	1970680
+SHUFFLE	COPY_MAP_DATA	77808000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1881836
+SHUFFLE	COMPRESS_BYTE_COUNT	1881840
+SHUFFLE	COPY_MAP_DATA	18698000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2138705
+SHUFFLE	COMPRESS_BYTE_COUNT	2138709
+SHUFFLE	COPY_MAP_DATA	61192000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1983728
+SHUFFLE	COMPRESS_BYTE_COUNT	1983732
+SHUFFLE	COPY_MAP_DATA	447551000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2225370
+SHUFFLE	COMPRESS_BYTE_COUNT	2225374
+SHUFFLE	COPY_MAP_DATA	44909000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2150482
+SHUFFLE	COMPRESS_BYTE_COUNT	2150486
+SHUFFLE	COPY_MAP_DATA	48471000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1951296
+SHUFFLE	COMPRESS_BYTE_COUNT	1951300
+SHUFFLE	COPY_MAP_DATA	52836000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2072806
+SHUFFLE	COMPRESS_BYTE_COUNT	2072810
+SHUFFLE	COPY_MAP_DATA	49011000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2038474
+SHUFFLE	COMPRESS_BYTE_COUNT	2038478
+SHUFFLE	COPY_MAP_DATA	33832000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1884060
+SHUFFLE	COMPRESS_BYTE_COUNT	1884064
+SHUFFLE	COPY_MAP_DATA	109576000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2093972
+SHUFFLE	COMPRESS_BYTE_COUNT	2093976
+SHUFFLE	COPY_MAP_DATA	25587000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1981688
+SHUFFLE	COMPRESS_BYTE_COUNT	1981692
+SHUFFLE	COPY_MAP_DATA	24613000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2142209
+SHUFFLE	COMPRESS_BYTE_COUNT	2142213
+SHUFFLE	COPY_MAP_DATA	30588000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1986450
+SHUFFLE	COMPRESS_BYTE_COUNT	1986454
+SHUFFLE	COPY_MAP_DATA	25394000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1981255
+SHUFFLE	COMPRESS_BYTE_COUNT	1981259
+SHUFFLE	COPY_MAP_DATA	79939000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2101891
+SHUFFLE	COMPRESS_BYTE_COUNT	2101895
+SHUFFLE	COPY_MAP_DATA	2961320000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2040727
+SHUFFLE	COMPRESS_BYTE_COUNT	2040731
+SHUFFLE	COPY_MAP_DATA	16514000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1921051
+SHUFFLE	COMPRESS_BYTE_COUNT	1921055
+SHUFFLE	COPY_MAP_DATA	52187000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2012225
+SHUFFLE	COMPRESS_BYTE_COUNT	2012229
+SHUFFLE	COPY_MAP_DATA	94855000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2041126
+SHUFFLE	COMPRESS_BYTE_COUNT	2041130
+SHUFFLE	COPY_MAP_DATA	6534946000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1923668
+SHUFFLE	COMPRESS_BYTE_COUNT	1923672
+SHUFFLE	COPY_MAP_DATA	1315809000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1983209
+SHUFFLE	COMPRESS_BYTE_COUNT	1983213
+SHUFFLE	COPY_MAP_DATA	3458994000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2076321
+SHUFFLE	COMPRESS_BYTE_COUNT	2076325
+SHUFFLE	COPY_MAP_DATA	188760000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1890086
+SHUFFLE	COMPRESS_BYTE_COUNT	1890090
+SHUFFLE	COPY_MAP_DATA	156825000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1879690
+SHUFFLE	COMPRESS_BYTE_COUNT	1879694
+SHUFFLE	COPY_MAP_DATA	210344000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1781217
+SHUFFLE	COMPRESS_BYTE_COUNT	1781221
+SHUFFLE	COPY_MAP_DATA	66866000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1885800
+SHUFFLE	COMPRESS_BYTE_COUNT	1885804
+SHUFFLE	COPY_MAP_DATA	44577000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2016288
+SHUFFLE	COMPRESS_BYTE_COUNT	2016292
+SHUFFLE	COPY_MAP_DATA	558752000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1875272
+SHUFFLE	COMPRESS_BYTE_COUNT	1875276
+SHUFFLE	COPY_MAP_DATA	43827000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2013279
+SHUFFLE	COMPRESS_BYTE_COUNT	2013283
+SHUFFLE	COPY_MAP_DATA	34682000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1677518
+SHUFFLE	COMPRESS_BYTE_COUNT	1677522
+SHUFFLE	COPY_MAP_DATA	330778000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1636550
+SHUFFLE	COMPRESS_BYTE_COUNT	1636554
+SHUFFLE	COPY_MAP_DATA	219792000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1984008
+SHUFFLE	COMPRESS_BYTE_COUNT	1984012
+SHUFFLE	COPY_MAP_DATA	224215000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1927379
+SHUFFLE	COMPRESS_BYTE_COUNT	1927383
+SHUFFLE	COPY_MAP_DATA	50404000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1801800
+SHUFFLE	COMPRESS_BYTE_COUNT	1801804
+SHUFFLE	COPY_MAP_DATA	28263000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1986488
+SHUFFLE	COMPRESS_BYTE_COUNT	1986492
+SHUFFLE	COPY_MAP_DATA	1412395000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1917617
+SHUFFLE	COMPRESS_BYTE_COUNT	1917621
+SHUFFLE	COPY_MAP_DATA	1047393000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1908639
+SHUFFLE	COMPRESS_BYTE_COUNT	1908643
+SHUFFLE	COPY_MAP_DATA	25246000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1775979
+SHUFFLE	COMPRESS_BYTE_COUNT	1775983
+SHUFFLE	COPY_MAP_DATA	24698000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1570930
+SHUFFLE	COMPRESS_BYTE_COUNT	1570934
+SHUFFLE	COPY_MAP_DATA	20083000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1745520
+SHUFFLE	COMPRESS_BYTE_COUNT	1745524
+SHUFFLE	COPY_MAP_DATA	24243000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1856741
+SHUFFLE	COMPRESS_BYTE_COUNT	1856745
+SHUFFLE	COPY_MAP_DATA	25102000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1575977
+SHUFFLE	COMPRESS_BYTE_COUNT	1575981
+SHUFFLE	COPY_MAP_DATA	27303000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1941331
+SHUFFLE	COMPRESS_BYTE_COUNT	1941335
+SHUFFLE	COPY_MAP_DATA	76975000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1689833
+SHUFFLE	COMPRESS_BYTE_COUNT	1689837
+SHUFFLE	COPY_MAP_DATA	26281000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1832485
+SHUFFLE	COMPRESS_BYTE_COUNT	1832489
+SHUFFLE	COPY_MAP_DATA	5810751000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1912392
+SHUFFLE	COMPRESS_BYTE_COUNT	1912396
+SHUFFLE	COPY_MAP_DATA	47347000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1980736
+SHUFFLE	COMPRESS_BYTE_COUNT	1980740
+SHUFFLE	COPY_MAP_DATA	26238000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1771805
+SHUFFLE	COMPRESS_BYTE_COUNT	1771809
+SHUFFLE	COPY_MAP_DATA	5072503000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1956512
+SHUFFLE	COMPRESS_BYTE_COUNT	1956516
+SHUFFLE	COPY_MAP_DATA	46035000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1668753
+SHUFFLE	COMPRESS_BYTE_COUNT	1668757
+SHUFFLE	COPY_MAP_DATA	101536000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1647111
+SHUFFLE	COMPRESS_BYTE_COUNT	1647115
+SHUFFLE	COPY_MAP_DATA	15124000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1540366
+SHUFFLE	COMPRESS_BYTE_COUNT	1540370
+SHUFFLE	COPY_MAP_DATA	54221000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1579965
+SHUFFLE	COMPRESS_BYTE_COUNT	1579969
+SHUFFLE	COPY_MAP_DATA	115049000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1658868
+SHUFFLE	COMPRESS_BYTE_COUNT	1658872
+SHUFFLE	COPY_MAP_DATA	38587000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1732251
+SHUFFLE	COMPRESS_BYTE_COUNT	1732255
+SHUFFLE	COPY_MAP_DATA	34696000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1673512
+SHUFFLE	COMPRESS_BYTE_COUNT	1673516
+SHUFFLE	COPY_MAP_DATA	676169000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1683903
+SHUFFLE	COMPRESS_BYTE_COUNT	1683907
+SHUFFLE	COPY_MAP_DATA	487752000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1671002
+SHUFFLE	COMPRESS_BYTE_COUNT	1671006
+SHUFFLE	COPY_MAP_DATA	32607000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1844522
+SHUFFLE	COMPRESS_BYTE_COUNT	1844526
+SHUFFLE	COPY_MAP_DATA	225367000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1645727
+SHUFFLE	COMPRESS_BYTE_COUNT	1645731
+SHUFFLE	COPY_MAP_DATA	33410000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1672563
+SHUFFLE	COMPRESS_BYTE_COUNT	1672567
+SHUFFLE	COPY_MAP_DATA	8180761000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1889585
+SHUFFLE	COMPRESS_BYTE_COUNT	1889589
+SHUFFLE	COPY_MAP_DATA	57507000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1626624
+SHUFFLE	COMPRESS_BYTE_COUNT	1626628
+SHUFFLE	COPY_MAP_DATA	36123000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1646671
+SHUFFLE	COMPRESS_BYTE_COUNT	1646675
+SHUFFLE	COPY_MAP_DATA	108449000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1564911
+SHUFFLE	COMPRESS_BYTE_COUNT	1564915
+SHUFFLE	COPY_MAP_DATA	2300147000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1635892
+SHUFFLE	COMPRESS_BYTE_COUNT	1635896
+SHUFFLE	COPY_MAP_DATA	95550000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1698214
+SHUFFLE	COMPRESS_BYTE_COUNT	1698218
+SHUFFLE	COPY_MAP_DATA	48370000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1774338
+SHUFFLE	COMPRESS_BYTE_COUNT	1774342
+SHUFFLE	COPY_MAP_DATA	31917000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1875785
+SHUFFLE	COMPRESS_BYTE_COUNT	1875789
+SHUFFLE	COPY_MAP_DATA	1673911000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1790769
+SHUFFLE	COMPRESS_BYTE_COUNT	1790773
+SHUFFLE	COPY_MAP_DATA	23355000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1892361
+SHUFFLE	COMPRESS_BYTE_COUNT	1892365
+SHUFFLE	COPY_MAP_DATA	2210743000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1717964
+SHUFFLE	COMPRESS_BYTE_COUNT	1717968
+SHUFFLE	COPY_MAP_DATA	30924000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1569344
+SHUFFLE	COMPRESS_BYTE_COUNT	1569348
+SHUFFLE	COPY_MAP_DATA	24155000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1785692
+SHUFFLE	COMPRESS_BYTE_COUNT	1785696
+SHUFFLE	COPY_MAP_DATA	32068000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1575918
+SHUFFLE	COMPRESS_BYTE_COUNT	1575922
+SHUFFLE	COPY_MAP_DATA	24337000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1557842
+SHUFFLE	COMPRESS_BYTE_COUNT	1557846
+SHUFFLE	COPY_MAP_DATA	27215000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1870941
+SHUFFLE	COMPRESS_BYTE_COUNT	1870945
+SHUFFLE	COPY_MAP_DATA	19806000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	838056
+SHUFFLE	COMPRESS_BYTE_COUNT	838060
+SHUFFLE	COPY_MAP_DATA	1584019000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	939315
+SHUFFLE	COMPRESS_BYTE_COUNT	939319
+SHUFFLE	COPY_MAP_DATA	2526768000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1612921
+SHUFFLE	COMPRESS_BYTE_COUNT	1612925
+SHUFFLE	COPY_MAP_DATA	70047000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1024739
+SHUFFLE	COMPRESS_BYTE_COUNT	1024743
+SHUFFLE	COPY_MAP_DATA	38876000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1595299
+SHUFFLE	COMPRESS_BYTE_COUNT	1595303
+SHUFFLE	COPY_MAP_DATA	26136000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1468294
+SHUFFLE	COMPRESS_BYTE_COUNT	1468298
+SHUFFLE	COPY_MAP_DATA	26304000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1584913
+SHUFFLE	COMPRESS_BYTE_COUNT	1584917
+SHUFFLE	COPY_MAP_DATA	188635000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	889967
+SHUFFLE	COMPRESS_BYTE_COUNT	889971
+SHUFFLE	COPY_MAP_DATA	89629000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	878125
+SHUFFLE	COMPRESS_BYTE_COUNT	878129
+SHUFFLE	COPY_MAP_DATA	550348000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1788155
+SHUFFLE	COMPRESS_BYTE_COUNT	1788159
+SHUFFLE	COPY_MAP_DATA	24715000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1475651
+SHUFFLE	COMPRESS_BYTE_COUNT	1475655
+SHUFFLE	COPY_MAP_DATA	18659000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1060073
+SHUFFLE	COMPRESS_BYTE_COUNT	1060077
+SHUFFLE	COPY_MAP_DATA	14111000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1070651
+SHUFFLE	COMPRESS_BYTE_COUNT	1070655
+SHUFFLE	COPY_MAP_DATA	412048000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1664109
+SHUFFLE	COMPRESS_BYTE_COUNT	1664113
+SHUFFLE	COPY_MAP_DATA	523919000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1706545
+SHUFFLE	COMPRESS_BYTE_COUNT	1706549
+SHUFFLE	COPY_MAP_DATA	88747000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1854494
+SHUFFLE	COMPRESS_BYTE_COUNT	1854498
+SHUFFLE	COPY_MAP_DATA	5177372000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1116389
+SHUFFLE	COMPRESS_BYTE_COUNT	1116393
+SHUFFLE	COPY_MAP_DATA	19470000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2003837
+SHUFFLE	COMPRESS_BYTE_COUNT	2003841
+SHUFFLE	COPY_MAP_DATA	25811000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1990707
+SHUFFLE	COMPRESS_BYTE_COUNT	1990711
+SHUFFLE	COPY_MAP_DATA	40645000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	992593
+SHUFFLE	COMPRESS_BYTE_COUNT	992597
+SHUFFLE	COPY_MAP_DATA	22770000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1666283
+SHUFFLE	COMPRESS_BYTE_COUNT	1666287
+SHUFFLE	COPY_MAP_DATA	23511000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1688520
+SHUFFLE	COMPRESS_BYTE_COUNT	1688524
+SHUFFLE	COPY_MAP_DATA	24102000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1560780
+SHUFFLE	COMPRESS_BYTE_COUNT	1560784
+SHUFFLE	COPY_MAP_DATA	16522000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	978702
+SHUFFLE	COMPRESS_BYTE_COUNT	978706
+SHUFFLE	COPY_MAP_DATA	1182407000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1705346
+SHUFFLE	COMPRESS_BYTE_COUNT	1705350
+SHUFFLE	COPY_MAP_DATA	25649000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1045883
+SHUFFLE	COMPRESS_BYTE_COUNT	1045887
+SHUFFLE	COPY_MAP_DATA	19689000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1410396
+SHUFFLE	COMPRESS_BYTE_COUNT	1410400
+SHUFFLE	COPY_MAP_DATA	12571000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1006793
+SHUFFLE	COMPRESS_BYTE_COUNT	1006797
+SHUFFLE	COPY_MAP_DATA	18200000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1082138
+SHUFFLE	COMPRESS_BYTE_COUNT	1082142
+SHUFFLE	COPY_MAP_DATA	13646000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1623895
+SHUFFLE	COMPRESS_BYTE_COUNT	1623899
+SHUFFLE	COPY_MAP_DATA	1846670000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1633552
+SHUFFLE	COMPRESS_BYTE_COUNT	1633556
+SHUFFLE	COPY_MAP_DATA	125249000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1045300
+SHUFFLE	COMPRESS_BYTE_COUNT	1045304
+SHUFFLE	COPY_MAP_DATA	332489000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1031920
+SHUFFLE	COMPRESS_BYTE_COUNT	1031924
+SHUFFLE	COPY_MAP_DATA	470321000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1006594
+SHUFFLE	COMPRESS_BYTE_COUNT	1006598
+SHUFFLE	COPY_MAP_DATA	56076000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1006172
+SHUFFLE	COMPRESS_BYTE_COUNT	1006176
+SHUFFLE	COPY_MAP_DATA	147862000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1062054
+SHUFFLE	COMPRESS_BYTE_COUNT	1062058
+SHUFFLE	COPY_MAP_DATA	46960000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	859323
+SHUFFLE	COMPRESS_BYTE_COUNT	859327
+SHUFFLE	COPY_MAP_DATA	22351000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	975291
+SHUFFLE	COMPRESS_BYTE_COUNT	975295
+SHUFFLE	COPY_MAP_DATA	11395000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1032229
+SHUFFLE	COMPRESS_BYTE_COUNT	1032233
+SHUFFLE	COPY_MAP_DATA	154427000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1031242
+SHUFFLE	COMPRESS_BYTE_COUNT	1031246
+SHUFFLE	COPY_MAP_DATA	16920000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1017746
+SHUFFLE	COMPRESS_BYTE_COUNT	1017750
+SHUFFLE	COPY_MAP_DATA	18556000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1031236
+SHUFFLE	COMPRESS_BYTE_COUNT	1031240
+SHUFFLE	COPY_MAP_DATA	17390000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	963260
+SHUFFLE	COMPRESS_BYTE_COUNT	963264
+SHUFFLE	COPY_MAP_DATA	175638000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1027238
+SHUFFLE	COMPRESS_BYTE_COUNT	1027242
+SHUFFLE	COPY_MAP_DATA	94727000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1026224
+SHUFFLE	COMPRESS_BYTE_COUNT	1026228
+SHUFFLE	COPY_MAP_DATA	10055000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1008439
+SHUFFLE	COMPRESS_BYTE_COUNT	1008443
+SHUFFLE	COPY_MAP_DATA	20701000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1545976
+SHUFFLE	COMPRESS_BYTE_COUNT	1545980
+SHUFFLE	COPY_MAP_DATA	13168894000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	967229
+SHUFFLE	COMPRESS_BYTE_COUNT	967233
+SHUFFLE	COPY_MAP_DATA	18650000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1039504
+SHUFFLE	COMPRESS_BYTE_COUNT	1039508
+SHUFFLE	COPY_MAP_DATA	21056000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1022684
+SHUFFLE	COMPRESS_BYTE_COUNT	1022688
+SHUFFLE	COPY_MAP_DATA	196435000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1059741
+SHUFFLE	COMPRESS_BYTE_COUNT	1059745
+SHUFFLE	COPY_MAP_DATA	18238000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1076929
+SHUFFLE	COMPRESS_BYTE_COUNT	1076933
+SHUFFLE	COPY_MAP_DATA	25375000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1180072
+SHUFFLE	COMPRESS_BYTE_COUNT	1180076
+SHUFFLE	COPY_MAP_DATA	24337000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1031494
+SHUFFLE	COMPRESS_BYTE_COUNT	1031498
+SHUFFLE	COPY_MAP_DATA	295864000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1009892
+SHUFFLE	COMPRESS_BYTE_COUNT	1009896
+SHUFFLE	COPY_MAP_DATA	17968000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	990254
+SHUFFLE	COMPRESS_BYTE_COUNT	990258
+SHUFFLE	COPY_MAP_DATA	144528000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1010767
+SHUFFLE	COMPRESS_BYTE_COUNT	1010771
+SHUFFLE	COPY_MAP_DATA	81677000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1033304
+SHUFFLE	COMPRESS_BYTE_COUNT	1033308
+SHUFFLE	COPY_MAP_DATA	20992000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	985390
+SHUFFLE	COMPRESS_BYTE_COUNT	985394
+SHUFFLE	COPY_MAP_DATA	416956000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1020790
+SHUFFLE	COMPRESS_BYTE_COUNT	1020794
+SHUFFLE	COPY_MAP_DATA	28886000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	969865
+SHUFFLE	COMPRESS_BYTE_COUNT	969869
+SHUFFLE	COPY_MAP_DATA	1948717000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1118255
+SHUFFLE	COMPRESS_BYTE_COUNT	1118259
+SHUFFLE	COPY_MAP_DATA	618614000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1075758
+SHUFFLE	COMPRESS_BYTE_COUNT	1075762
+SHUFFLE	COPY_MAP_DATA	23275000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1019939
+SHUFFLE	COMPRESS_BYTE_COUNT	1019943
+SHUFFLE	COPY_MAP_DATA	16824000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	977645
+SHUFFLE	COMPRESS_BYTE_COUNT	977649
+SHUFFLE	COPY_MAP_DATA	84280000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	949510
+SHUFFLE	COMPRESS_BYTE_COUNT	949514
+SHUFFLE	COPY_MAP_DATA	95580000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	980007
+SHUFFLE	COMPRESS_BYTE_COUNT	980011
+SHUFFLE	COPY_MAP_DATA	20132000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1048760
+SHUFFLE	COMPRESS_BYTE_COUNT	1048764
+SHUFFLE	COPY_MAP_DATA	23194000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	985208
+SHUFFLE	COMPRESS_BYTE_COUNT	985212
+SHUFFLE	COPY_MAP_DATA	18796000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	964506
+SHUFFLE	COMPRESS_BYTE_COUNT	964510
+SHUFFLE	COPY_MAP_DATA	18939000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1016587
+SHUFFLE	COMPRESS_BYTE_COUNT	1016591
+SHUFFLE	COPY_MAP_DATA	11094000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1001122
+SHUFFLE	COMPRESS_BYTE_COUNT	1001126
+SHUFFLE	COPY_MAP_DATA	257177000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	999033
+SHUFFLE	COMPRESS_BYTE_COUNT	999037
+SHUFFLE	COPY_MAP_DATA	484310000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1027563
+SHUFFLE	COMPRESS_BYTE_COUNT	1027567
+SHUFFLE	COPY_MAP_DATA	18722000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1015168
+SHUFFLE	COMPRESS_BYTE_COUNT	1015172
+SHUFFLE	COPY_MAP_DATA	17639000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1000178
+SHUFFLE	COMPRESS_BYTE_COUNT	1000182
+SHUFFLE	COPY_MAP_DATA	38972000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	984977
+SHUFFLE	COMPRESS_BYTE_COUNT	984981
+SHUFFLE	COPY_MAP_DATA	83297000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	983095
+SHUFFLE	COMPRESS_BYTE_COUNT	983099
+SHUFFLE	COPY_MAP_DATA	46590000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1005566
+SHUFFLE	COMPRESS_BYTE_COUNT	1005570
+SHUFFLE	COPY_MAP_DATA	11900000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	932328
+SHUFFLE	COMPRESS_BYTE_COUNT	932332
+SHUFFLE	COPY_MAP_DATA	74113000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1038784
+SHUFFLE	COMPRESS_BYTE_COUNT	1038788
+SHUFFLE	COPY_MAP_DATA	91001000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	988038
+SHUFFLE	COMPRESS_BYTE_COUNT	988042
+SHUFFLE	COPY_MAP_DATA	14510000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	955527
+SHUFFLE	COMPRESS_BYTE_COUNT	955531
+SHUFFLE	COPY_MAP_DATA	12435000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	966242
+SHUFFLE	COMPRESS_BYTE_COUNT	966246
+SHUFFLE	COPY_MAP_DATA	17768000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	958378
+SHUFFLE	COMPRESS_BYTE_COUNT	958382
+SHUFFLE	COPY_MAP_DATA	401624000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	980733
+SHUFFLE	COMPRESS_BYTE_COUNT	980737
+SHUFFLE	COPY_MAP_DATA	161384000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1127940
+SHUFFLE	COMPRESS_BYTE_COUNT	1127944
+SHUFFLE	COPY_MAP_DATA	374040000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	965292
+SHUFFLE	COMPRESS_BYTE_COUNT	965296
+SHUFFLE	COPY_MAP_DATA	35379000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	993978
+SHUFFLE	COMPRESS_BYTE_COUNT	993982
+SHUFFLE	COPY_MAP_DATA	28443000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	987279
+SHUFFLE	COMPRESS_BYTE_COUNT	987283
+SHUFFLE	COPY_MAP_DATA	200707000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1006483
+SHUFFLE	COMPRESS_BYTE_COUNT	1006487
+SHUFFLE	COPY_MAP_DATA	571337000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	974497
+SHUFFLE	COMPRESS_BYTE_COUNT	974501
+SHUFFLE	COPY_MAP_DATA	1075953000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	954073
+SHUFFLE	COMPRESS_BYTE_COUNT	954077
+SHUFFLE	COPY_MAP_DATA	13252000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	966980
+SHUFFLE	COMPRESS_BYTE_COUNT	966984
+SHUFFLE	COPY_MAP_DATA	311481000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	986307
+SHUFFLE	COMPRESS_BYTE_COUNT	986311
+SHUFFLE	COPY_MAP_DATA	297072000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	991436
+SHUFFLE	COMPRESS_BYTE_COUNT	991440
+SHUFFLE	COPY_MAP_DATA	281168000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	990379
+SHUFFLE	COMPRESS_BYTE_COUNT	990383
+SHUFFLE	COPY_MAP_DATA	19214000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	935744
+SHUFFLE	COMPRESS_BYTE_COUNT	935748
+SHUFFLE	COPY_MAP_DATA	25604000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	926087
+SHUFFLE	COMPRESS_BYTE_COUNT	926091
+SHUFFLE	COPY_MAP_DATA	153550000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	968036
+SHUFFLE	COMPRESS_BYTE_COUNT	968040
+SHUFFLE	COPY_MAP_DATA	413215000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	975721
+SHUFFLE	COMPRESS_BYTE_COUNT	975725
+SHUFFLE	COPY_MAP_DATA	31121000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	906576
+SHUFFLE	COMPRESS_BYTE_COUNT	906580
+SHUFFLE	COPY_MAP_DATA	60005000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	930275
+SHUFFLE	COMPRESS_BYTE_COUNT	930279
+SHUFFLE	COPY_MAP_DATA	281064000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	972897
+SHUFFLE	COMPRESS_BYTE_COUNT	972901
+SHUFFLE	COPY_MAP_DATA	50758000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	960590
+SHUFFLE	COMPRESS_BYTE_COUNT	960594
+SHUFFLE	COPY_MAP_DATA	250671000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	951660
+SHUFFLE	COMPRESS_BYTE_COUNT	951664
+SHUFFLE	COPY_MAP_DATA	678341000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	915289
+SHUFFLE	COMPRESS_BYTE_COUNT	915293
+SHUFFLE	COPY_MAP_DATA	122860000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	904153
+SHUFFLE	COMPRESS_BYTE_COUNT	904157
+SHUFFLE	COPY_MAP_DATA	26455000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	947647
+SHUFFLE	COMPRESS_BYTE_COUNT	947651
+SHUFFLE	COPY_MAP_DATA	197672000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	901039
+SHUFFLE	COMPRESS_BYTE_COUNT	901043
+SHUFFLE	COPY_MAP_DATA	58679000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	996143
+SHUFFLE	COMPRESS_BYTE_COUNT	996147
+SHUFFLE	COPY_MAP_DATA	852792000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	942174
+SHUFFLE	COMPRESS_BYTE_COUNT	942178
+SHUFFLE	COPY_MAP_DATA	594545000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	947914
+SHUFFLE	COMPRESS_BYTE_COUNT	947918
+SHUFFLE	COPY_MAP_DATA	1274070000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	934045
+SHUFFLE	COMPRESS_BYTE_COUNT	934049
+SHUFFLE	COPY_MAP_DATA	137543000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	915170
+SHUFFLE	COMPRESS_BYTE_COUNT	915174
+SHUFFLE	COPY_MAP_DATA	3739670000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	904343
+SHUFFLE	COMPRESS_BYTE_COUNT	904347
+SHUFFLE	COPY_MAP_DATA	253011000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	941573
+SHUFFLE	COMPRESS_BYTE_COUNT	941577
+SHUFFLE	COPY_MAP_DATA	224449000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	895000
+SHUFFLE	COMPRESS_BYTE_COUNT	895004
+SHUFFLE	COPY_MAP_DATA	284630000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	887564
+SHUFFLE	COMPRESS_BYTE_COUNT	887568
+SHUFFLE	COPY_MAP_DATA	55612000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	945190
+SHUFFLE	COMPRESS_BYTE_COUNT	945194
+SHUFFLE	COPY_MAP_DATA	16453000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	884895
+SHUFFLE	COMPRESS_BYTE_COUNT	884899
+SHUFFLE	COPY_MAP_DATA	8963000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	865231
+SHUFFLE	COMPRESS_BYTE_COUNT	865235
+SHUFFLE	COPY_MAP_DATA	284948000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	796520
+SHUFFLE	COMPRESS_BYTE_COUNT	796524
+SHUFFLE	COPY_MAP_DATA	158798000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	847174
+SHUFFLE	COMPRESS_BYTE_COUNT	847178
+SHUFFLE	COPY_MAP_DATA	386797000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	855868
+SHUFFLE	COMPRESS_BYTE_COUNT	855872
+SHUFFLE	COPY_MAP_DATA	19050000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	960760
+SHUFFLE	COMPRESS_BYTE_COUNT	960764
+SHUFFLE	COPY_MAP_DATA	24485000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	884840
+SHUFFLE	COMPRESS_BYTE_COUNT	884844
+SHUFFLE	COPY_MAP_DATA	17553000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	835416
+SHUFFLE	COMPRESS_BYTE_COUNT	835420
+SHUFFLE	COPY_MAP_DATA	121510000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	902518
+SHUFFLE	COMPRESS_BYTE_COUNT	902522
+SHUFFLE	COPY_MAP_DATA	11502000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	911656
+SHUFFLE	COMPRESS_BYTE_COUNT	911660
+SHUFFLE	COPY_MAP_DATA	27383000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1020148
+SHUFFLE	COMPRESS_BYTE_COUNT	1020152
+SHUFFLE	COPY_MAP_DATA	18431000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	827790
+SHUFFLE	COMPRESS_BYTE_COUNT	827794
+SHUFFLE	COPY_MAP_DATA	51555000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	890372
+SHUFFLE	COMPRESS_BYTE_COUNT	890376
+SHUFFLE	COPY_MAP_DATA	1489942000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	915286
+SHUFFLE	COMPRESS_BYTE_COUNT	915290
+SHUFFLE	COPY_MAP_DATA	253030000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	900763
+SHUFFLE	COMPRESS_BYTE_COUNT	900767
+SHUFFLE	COPY_MAP_DATA	22762000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	815080
+SHUFFLE	COMPRESS_BYTE_COUNT	815084
+SHUFFLE	COPY_MAP_DATA	18385000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	842806
+SHUFFLE	COMPRESS_BYTE_COUNT	842810
+SHUFFLE	COPY_MAP_DATA	528257000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	835176
+SHUFFLE	COMPRESS_BYTE_COUNT	835180
+SHUFFLE	COPY_MAP_DATA	280322000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	828706
+SHUFFLE	COMPRESS_BYTE_COUNT	828710
+SHUFFLE	COPY_MAP_DATA	72612000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	758383
+SHUFFLE	COMPRESS_BYTE_COUNT	758387
+SHUFFLE	COPY_MAP_DATA	119577000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	783547
+SHUFFLE	COMPRESS_BYTE_COUNT	783551
+SHUFFLE	COPY_MAP_DATA	28770000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	888417
+SHUFFLE	COMPRESS_BYTE_COUNT	888421
+SHUFFLE	COPY_MAP_DATA	20830000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1013276
+SHUFFLE	COMPRESS_BYTE_COUNT	1013280
+SHUFFLE	COPY_MAP_DATA	772824000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	895468
+SHUFFLE	COMPRESS_BYTE_COUNT	895472
+SHUFFLE	COPY_MAP_DATA	283260000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	886841
+SHUFFLE	COMPRESS_BYTE_COUNT	886845
+SHUFFLE	COPY_MAP_DATA	18574000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	851139
+SHUFFLE	COMPRESS_BYTE_COUNT	851143
+SHUFFLE	COPY_MAP_DATA	4289443000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	848729
+SHUFFLE	COMPRESS_BYTE_COUNT	848733
+SHUFFLE	COPY_MAP_DATA	82407000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	929235
+SHUFFLE	COMPRESS_BYTE_COUNT	929239
+SHUFFLE	COPY_MAP_DATA	473169000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	840032
+SHUFFLE	COMPRESS_BYTE_COUNT	840036
+SHUFFLE	COPY_MAP_DATA	80294000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	830236
+SHUFFLE	COMPRESS_BYTE_COUNT	830240
+SHUFFLE	COPY_MAP_DATA	9690000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	788243
+SHUFFLE	COMPRESS_BYTE_COUNT	788247
+SHUFFLE	COPY_MAP_DATA	296753000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	829174
+SHUFFLE	COMPRESS_BYTE_COUNT	829178
+SHUFFLE	COPY_MAP_DATA	1855797000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	786442
+SHUFFLE	COMPRESS_BYTE_COUNT	786446
+SHUFFLE	COPY_MAP_DATA	103918000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	881428
+SHUFFLE	COMPRESS_BYTE_COUNT	881432
+SHUFFLE	COPY_MAP_DATA	17131000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	839996
+SHUFFLE	COMPRESS_BYTE_COUNT	840000
+SHUFFLE	COPY_MAP_DATA	56621000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	980319
+SHUFFLE	COMPRESS_BYTE_COUNT	980323
+SHUFFLE	COPY_MAP_DATA	17783000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	916226
+SHUFFLE	COMPRESS_BYTE_COUNT	916230
+SHUFFLE	COPY_MAP_DATA	44955000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	802994
+SHUFFLE	COMPRESS_BYTE_COUNT	802998
+SHUFFLE	COPY_MAP_DATA	11668000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	786638
+SHUFFLE	COMPRESS_BYTE_COUNT	786642
+SHUFFLE	COPY_MAP_DATA	9386000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	782487
+SHUFFLE	COMPRESS_BYTE_COUNT	782491
+SHUFFLE	COPY_MAP_DATA	107725000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	881857
+SHUFFLE	COMPRESS_BYTE_COUNT	881861
+SHUFFLE	COPY_MAP_DATA	19242000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	892912
+SHUFFLE	COMPRESS_BYTE_COUNT	892916
+SHUFFLE	COPY_MAP_DATA	9882000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	795606
+SHUFFLE	COMPRESS_BYTE_COUNT	795610
+SHUFFLE	COPY_MAP_DATA	161162000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	782193
+SHUFFLE	COMPRESS_BYTE_COUNT	782197
+SHUFFLE	COPY_MAP_DATA	1399566000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	860350
+SHUFFLE	COMPRESS_BYTE_COUNT	860354
+SHUFFLE	COPY_MAP_DATA	18535000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	775326
+SHUFFLE	COMPRESS_BYTE_COUNT	775330
+SHUFFLE	COPY_MAP_DATA	24950000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	841405
+SHUFFLE	COMPRESS_BYTE_COUNT	841409
+SHUFFLE	COPY_MAP_DATA	36776000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	809074
+SHUFFLE	COMPRESS_BYTE_COUNT	809078
+SHUFFLE	COPY_MAP_DATA	16271000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	851809
+SHUFFLE	COMPRESS_BYTE_COUNT	851813
+SHUFFLE	COPY_MAP_DATA	81701000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	782520
+SHUFFLE	COMPRESS_BYTE_COUNT	782524
+SHUFFLE	COPY_MAP_DATA	20058000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	797480
+SHUFFLE	COMPRESS_BYTE_COUNT	797484
+SHUFFLE	COPY_MAP_DATA	362182000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	844035
+SHUFFLE	COMPRESS_BYTE_COUNT	844039
+SHUFFLE	COPY_MAP_DATA	24454000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	869468
+SHUFFLE	COMPRESS_BYTE_COUNT	869472
+SHUFFLE	COPY_MAP_DATA	229663000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1105725
+SHUFFLE	COMPRESS_BYTE_COUNT	1105729
+SHUFFLE	COPY_MAP_DATA	60364000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1172967
+SHUFFLE	COMPRESS_BYTE_COUNT	1172971
+SHUFFLE	COPY_MAP_DATA	207575000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	827326
+SHUFFLE	COMPRESS_BYTE_COUNT	827330
+SHUFFLE	COPY_MAP_DATA	1849035000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	810654
+SHUFFLE	COMPRESS_BYTE_COUNT	810658
+SHUFFLE	COPY_MAP_DATA	910636000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1061797
+SHUFFLE	COMPRESS_BYTE_COUNT	1061801
+SHUFFLE	COPY_MAP_DATA	1210443000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	849684
+SHUFFLE	COMPRESS_BYTE_COUNT	849688
+SHUFFLE	COPY_MAP_DATA	21063000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	744479
+SHUFFLE	COMPRESS_BYTE_COUNT	744483
+SHUFFLE	COPY_MAP_DATA	260170000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	774313
+SHUFFLE	COMPRESS_BYTE_COUNT	774317
+SHUFFLE	COPY_MAP_DATA	15692000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	767052
+SHUFFLE	COMPRESS_BYTE_COUNT	767056
+SHUFFLE	COPY_MAP_DATA	149323000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	805708
+SHUFFLE	COMPRESS_BYTE_COUNT	805712
+SHUFFLE	COPY_MAP_DATA	44724000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	786898
+SHUFFLE	COMPRESS_BYTE_COUNT	786902
+SHUFFLE	COPY_MAP_DATA	18103000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	868161
+SHUFFLE	COMPRESS_BYTE_COUNT	868165
+SHUFFLE	COPY_MAP_DATA	663729000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	808568
+SHUFFLE	COMPRESS_BYTE_COUNT	808572
+SHUFFLE	COPY_MAP_DATA	44320000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	822375
+SHUFFLE	COMPRESS_BYTE_COUNT	822379
+SHUFFLE	COPY_MAP_DATA	18975000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	783466
+SHUFFLE	COMPRESS_BYTE_COUNT	783470
+SHUFFLE	COPY_MAP_DATA	27356000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	838747
+SHUFFLE	COMPRESS_BYTE_COUNT	838751
+SHUFFLE	COPY_MAP_DATA	208020000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	805733
+SHUFFLE	COMPRESS_BYTE_COUNT	805737
+SHUFFLE	COPY_MAP_DATA	453529000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	753926
+SHUFFLE	COMPRESS_BYTE_COUNT	753930
+SHUFFLE	COPY_MAP_DATA	2291795000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	989110
+SHUFFLE	COMPRESS_BYTE_COUNT	989114
+SHUFFLE	COPY_MAP_DATA	2655016000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	829355
+SHUFFLE	COMPRESS_BYTE_COUNT	829359
+SHUFFLE	COPY_MAP_DATA	115445000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	879219
+SHUFFLE	COMPRESS_BYTE_COUNT	879223
+SHUFFLE	COPY_MAP_DATA	32491000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	797271
+SHUFFLE	COMPRESS_BYTE_COUNT	797275
+SHUFFLE	COPY_MAP_DATA	1192360000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	903547
+SHUFFLE	COMPRESS_BYTE_COUNT	903551
+SHUFFLE	COPY_MAP_DATA	55497000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	902779
+SHUFFLE	COMPRESS_BYTE_COUNT	902783
+SHUFFLE	COPY_MAP_DATA	51725000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	778510
+SHUFFLE	COMPRESS_BYTE_COUNT	778514
+SHUFFLE	COPY_MAP_DATA	432066000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	794864
+SHUFFLE	COMPRESS_BYTE_COUNT	794868
+SHUFFLE	COPY_MAP_DATA	629036000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	773059
+SHUFFLE	COMPRESS_BYTE_COUNT	773063
+SHUFFLE	COPY_MAP_DATA	97993000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	837187
+SHUFFLE	COMPRESS_BYTE_COUNT	837191
+SHUFFLE	COPY_MAP_DATA	3598157000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	755839
+SHUFFLE	COMPRESS_BYTE_COUNT	755843
+SHUFFLE	COPY_MAP_DATA	579655000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1064470
+SHUFFLE	COMPRESS_BYTE_COUNT	1064474
+SHUFFLE	COPY_MAP_DATA	88154000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	834937
+SHUFFLE	COMPRESS_BYTE_COUNT	834941
+SHUFFLE	COPY_MAP_DATA	85271000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	773282
+SHUFFLE	COMPRESS_BYTE_COUNT	773286
+SHUFFLE	COPY_MAP_DATA	5874700000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1007305
+SHUFFLE	COMPRESS_BYTE_COUNT	1007309
+SHUFFLE	COPY_MAP_DATA	1189073000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	862800
+SHUFFLE	COMPRESS_BYTE_COUNT	862804
+SHUFFLE	COPY_MAP_DATA	224822000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	701340
+SHUFFLE	COMPRESS_BYTE_COUNT	701344
+SHUFFLE	COPY_MAP_DATA	191861000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	800792
+SHUFFLE	COMPRESS_BYTE_COUNT	800796
+SHUFFLE	COPY_MAP_DATA	141607000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	808690
+SHUFFLE	COMPRESS_BYTE_COUNT	808694
+SHUFFLE	COPY_MAP_DATA	13510000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	776447
+SHUFFLE	COMPRESS_BYTE_COUNT	776451
+SHUFFLE	COPY_MAP_DATA	937568000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	839262
+SHUFFLE	COMPRESS_BYTE_COUNT	839266
+SHUFFLE	COPY_MAP_DATA	658833000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	850822
+SHUFFLE	COMPRESS_BYTE_COUNT	850826
+SHUFFLE	COPY_MAP_DATA	21487000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	865386
+SHUFFLE	COMPRESS_BYTE_COUNT	865390
+SHUFFLE	COPY_MAP_DATA	25640000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	873953
+SHUFFLE	COMPRESS_BYTE_COUNT	873957
+SHUFFLE	COPY_MAP_DATA	27993000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	773059
+SHUFFLE	COMPRESS_BYTE_COUNT	773063
+SHUFFLE	COPY_MAP_DATA	27681000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	850615
+SHUFFLE	COMPRESS_BYTE_COUNT	850619
+SHUFFLE	COPY_MAP_DATA	536074000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	814569
+SHUFFLE	COMPRESS_BYTE_COUNT	814573
+SHUFFLE	COPY_MAP_DATA	796109000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	797410
+SHUFFLE	COMPRESS_BYTE_COUNT	797414
+SHUFFLE	COPY_MAP_DATA	37631000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	592884
+SHUFFLE	COMPRESS_BYTE_COUNT	592888
+SHUFFLE	COPY_MAP_DATA	13198000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	769601
+SHUFFLE	COMPRESS_BYTE_COUNT	769605
+SHUFFLE	COPY_MAP_DATA	384950000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	770117
+SHUFFLE	COMPRESS_BYTE_COUNT	770121
+SHUFFLE	COPY_MAP_DATA	304953000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	939369
+SHUFFLE	COMPRESS_BYTE_COUNT	939373
+SHUFFLE	COPY_MAP_DATA	33139000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	749550
+SHUFFLE	COMPRESS_BYTE_COUNT	749554
+SHUFFLE	COPY_MAP_DATA	14093000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	803768
+SHUFFLE	COMPRESS_BYTE_COUNT	803772
+SHUFFLE	COPY_MAP_DATA	68619000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	796428
+SHUFFLE	COMPRESS_BYTE_COUNT	796432
+SHUFFLE	COPY_MAP_DATA	627245000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	803002
+SHUFFLE	COMPRESS_BYTE_COUNT	803006
+SHUFFLE	COPY_MAP_DATA	271361000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	857107
+SHUFFLE	COMPRESS_BYTE_COUNT	857111
+SHUFFLE	COPY_MAP_DATA	1140988000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	740880
+SHUFFLE	COMPRESS_BYTE_COUNT	740884
+SHUFFLE	COPY_MAP_DATA	83178000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	667504
+SHUFFLE	COMPRESS_BYTE_COUNT	667508
+SHUFFLE	COPY_MAP_DATA	37470000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	802294
+SHUFFLE	COMPRESS_BYTE_COUNT	802298
+SHUFFLE	COPY_MAP_DATA	39599000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	752092
+SHUFFLE	COMPRESS_BYTE_COUNT	752096
+SHUFFLE	COPY_MAP_DATA	13836000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	652015
+SHUFFLE	COMPRESS_BYTE_COUNT	652019
+SHUFFLE	COPY_MAP_DATA	12684000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	948895
+SHUFFLE	COMPRESS_BYTE_COUNT	948899
+SHUFFLE	COPY_MAP_DATA	32258000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1141025
+SHUFFLE	COMPRESS_BYTE_COUNT	1141029
+SHUFFLE	COPY_MAP_DATA	49244000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1055863
+SHUFFLE	COMPRESS_BYTE_COUNT	1055867
+SHUFFLE	COPY_MAP_DATA	36606000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	763767
+SHUFFLE	COMPRESS_BYTE_COUNT	763771
+SHUFFLE	COPY_MAP_DATA	13604000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	118303206000
+MERGE	READ_WRITE	115913507000
+MERGE	READ_WRITE_COUNT	2
+MERGE	COMBINE	0
+MERGE	WRITE	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	17920765000
+SORT	READ_WRITE	17772400000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	128651952
+REDUCE	SETUP	313000
+REDUCE	SETUP_MEM	128651952
+REDUCE	CLEANUP	37000
+REDUCE	CLEANUP_MEM	178520480
+REDUCE	TOTAL_RUN	105479997000
+REDUCE	READ	8306871000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	90824266000
+REDUCE	WRITE	31033879000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	74359564
+REDUCE	VALUE_BYTE_COUNT	67202614
+REDUCE	REDUCE_MEM	178520480
+REDUCE	WRITE	31191000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	651719666000
@@ -0,0 +1,1333 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1877753
+SHUFFLE	COMPRESS_BYTE_COUNT	1877757
+SHUFFLE	COPY_MAP_DATA	55845000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1812091
+SHUFFLE	COMPRESS_BYTE_COUNT	1812095
+SHUFFLE	COPY_MAP_DATA	38357000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2083942
+SHUFFLE	COMPRESS_BYTE_COUNT	2083946
+SHUFFLE	COPY_MAP_DATA	40141000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2025391
+SHUFFLE	COMPRESS_BYTE_COUNT	2025395
+SHUFFLE	COPY_MAP_DATA	111898000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1993700
+SHUFFLE	COMPRESS_BYTE_COUNT	1993704
+SHUFFLE	COPY_MAP_DATA	66247000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2010530
+SHUFFLE	COMPRESS_BYTE_COUNT	2010534
+SHUFFLE	COPY_MAP_DATA	103226000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1976568
+SHUFFLE	COMPRESS_BYTE_COUNT	1976572
+SHUFFLE	COPY_MAP_DATA	169052000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1955561
+SHUFFLE	COMPRESS_BYTE_COUNT	1955565
+SHUFFLE	COPY_MAP_DATA	536352000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1921571
+SHUFFLE	COMPRESS_BYTE_COUNT	1921575
+SHUFFLE	COPY_MAP_DATA	130688000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1802833
+SHUFFLE	COMPRESS_BYTE_COUNT	1802837
+SHUFFLE	COPY_MAP_DATA	343667000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1780127
+SHUFFLE	COMPRESS_BYTE_COUNT	1780131
+SHUFFLE	COPY_MAP_DATA	60775000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1695720
+SHUFFLE	COMPRESS_BYTE_COUNT	1695724
+SHUFFLE	COPY_MAP_DATA	302866000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2028057
+SHUFFLE	COMPRESS_BYTE_COUNT	2028061
+SHUFFLE	COPY_MAP_DATA	48923000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1806195
+SHUFFLE	COMPRESS_BYTE_COUNT	1806199
+SHUFFLE	COPY_MAP_DATA	82087000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1962499
+SHUFFLE	COMPRESS_BYTE_COUNT	1962503
+SHUFFLE	COPY_MAP_DATA	246577000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2092722
+SHUFFLE	COMPRESS_BYTE_COUNT	2092726
+SHUFFLE	COPY_MAP_DATA	68232000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1953906
+SHUFFLE	COMPRESS_BYTE_COUNT	1953910
+SHUFFLE	COPY_MAP_DATA	31153000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2062084
+SHUFFLE	COMPRESS_BYTE_COUNT	2062088
+SHUFFLE	COPY_MAP_DATA	54237000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1995815
+SHUFFLE	COMPRESS_BYTE_COUNT	1995819
+SHUFFLE	COPY_MAP_DATA	82369000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1932939
+SHUFFLE	COMPRESS_BYTE_COUNT	1932943
+SHUFFLE	COPY_MAP_DATA	34544000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1898065
+SHUFFLE	COMPRESS_BYTE_COUNT	1898069
+SHUFFLE	COPY_MAP_DATA	314588000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1840767
+SHUFFLE	COMPRESS_BYTE_COUNT	1840771
+SHUFFLE	COPY_MAP_DATA	64301000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2003674
+SHUFFLE	COMPRESS_BYTE_COUNT	2003678
+SHUFFLE	COPY_MAP_DATA	44372000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1830521
+SHUFFLE	COMPRESS_BYTE_COUNT	1830525
+SHUFFLE	COPY_MAP_DATA	102952000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1929173
+SHUFFLE	COMPRESS_BYTE_COUNT	1929177
+SHUFFLE	COPY_MAP_DATA	84329000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1955799
+SHUFFLE	COMPRESS_BYTE_COUNT	1955803
+SHUFFLE	COPY_MAP_DATA	149593000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2021970
+SHUFFLE	COMPRESS_BYTE_COUNT	2021974
+SHUFFLE	COPY_MAP_DATA	250554000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2007322
+SHUFFLE	COMPRESS_BYTE_COUNT	2007326
+SHUFFLE	COPY_MAP_DATA	643485000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1923930
+SHUFFLE	COMPRESS_BYTE_COUNT	1923934
+SHUFFLE	COPY_MAP_DATA	3031663284
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1974862
+SHUFFLE	COMPRESS_BYTE_COUNT	1974866
+SHUFFLE	COPY_MAP_DATA	124886000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1971537
+SHUFFLE	COMPRESS_BYTE_COUNT	1971541
+SHUFFLE	COPY_MAP_DATA	6626507000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1826796
+SHUFFLE	COMPRESS_BYTE_COUNT	1826800
+SHUFFLE	COPY_MAP_DATA	165794000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2102453
+SHUFFLE	COMPRESS_BYTE_COUNT	2102457
+SHUFFLE	COPY_MAP_DATA	38826000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1853729
+SHUFFLE	COMPRESS_BYTE_COUNT	1853733
+SHUFFLE	COPY_MAP_DATA	142108000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1708802
+SHUFFLE	COMPRESS_BYTE_COUNT	1708806
+SHUFFLE	COPY_MAP_DATA	264185000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1885328
+SHUFFLE	COMPRESS_BYTE_COUNT	1885332
+SHUFFLE	COPY_MAP_DATA	355546000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1845200
+SHUFFLE	COMPRESS_BYTE_COUNT	1845204
+SHUFFLE	COPY_MAP_DATA	505389000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1788755
+SHUFFLE	COMPRESS_BYTE_COUNT	1788759
+SHUFFLE	COPY_MAP_DATA	130771000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1620987
+SHUFFLE	COMPRESS_BYTE_COUNT	1620991
+SHUFFLE	COPY_MAP_DATA	214707000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1892393
+SHUFFLE	COMPRESS_BYTE_COUNT	1892397
+SHUFFLE	COPY_MAP_DATA	48311000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1602154
+SHUFFLE	COMPRESS_BYTE_COUNT	1602158
+SHUFFLE	COPY_MAP_DATA	24547000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1840089
+SHUFFLE	COMPRESS_BYTE_COUNT	1840093
+SHUFFLE	COPY_MAP_DATA	99749000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1746699
+SHUFFLE	COMPRESS_BYTE_COUNT	1746703
+SHUFFLE	COPY_MAP_DATA	207340000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1915415
+SHUFFLE	COMPRESS_BYTE_COUNT	1915419
+SHUFFLE	COPY_MAP_DATA	46735000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1936529
+SHUFFLE	COMPRESS_BYTE_COUNT	1936533
+SHUFFLE	COPY_MAP_DATA	103698000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1768837
+SHUFFLE	COMPRESS_BYTE_COUNT	1768841
+SHUFFLE	COPY_MAP_DATA	2401017000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1844279
+SHUFFLE	COMPRESS_BYTE_COUNT	1844283
+SHUFFLE	COPY_MAP_DATA	39359000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1832105
+SHUFFLE	COMPRESS_BYTE_COUNT	1832109
+SHUFFLE	COPY_MAP_DATA	54089000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1532130
+SHUFFLE	COMPRESS_BYTE_COUNT	1532134
+SHUFFLE	COPY_MAP_DATA	25416000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1909204
+SHUFFLE	COMPRESS_BYTE_COUNT	1909208
+SHUFFLE	COPY_MAP_DATA	327418000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1746029
+SHUFFLE	COMPRESS_BYTE_COUNT	1746033
+SHUFFLE	COPY_MAP_DATA	119544000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1669771
+SHUFFLE	COMPRESS_BYTE_COUNT	1669775
+SHUFFLE	COPY_MAP_DATA	88972000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1770733
+SHUFFLE	COMPRESS_BYTE_COUNT	1770737
+SHUFFLE	COPY_MAP_DATA	126734000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1597586
+SHUFFLE	COMPRESS_BYTE_COUNT	1597590
+SHUFFLE	COPY_MAP_DATA	365925000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2269438
+SHUFFLE	COMPRESS_BYTE_COUNT	2269442
+SHUFFLE	COPY_MAP_DATA	57055000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1844300
+SHUFFLE	COMPRESS_BYTE_COUNT	1844304
+SHUFFLE	COPY_MAP_DATA	55991000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1832671
+SHUFFLE	COMPRESS_BYTE_COUNT	1832675
+SHUFFLE	COPY_MAP_DATA	24646000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1852734
+SHUFFLE	COMPRESS_BYTE_COUNT	1852738
+SHUFFLE	COPY_MAP_DATA	154922000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1714524
+SHUFFLE	COMPRESS_BYTE_COUNT	1714528
+SHUFFLE	COPY_MAP_DATA	30683000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1715527
+SHUFFLE	COMPRESS_BYTE_COUNT	1715531
+SHUFFLE	COPY_MAP_DATA	44666000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1672800
+SHUFFLE	COMPRESS_BYTE_COUNT	1672804
+SHUFFLE	COPY_MAP_DATA	143386000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1518789
+SHUFFLE	COMPRESS_BYTE_COUNT	1518793
+SHUFFLE	COPY_MAP_DATA	269081000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1556577
+SHUFFLE	COMPRESS_BYTE_COUNT	1556581
+SHUFFLE	COPY_MAP_DATA	151185000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1909153
+SHUFFLE	COMPRESS_BYTE_COUNT	1909157
+SHUFFLE	COPY_MAP_DATA	135910000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1625029
+SHUFFLE	COMPRESS_BYTE_COUNT	1625033
+SHUFFLE	COPY_MAP_DATA	81569000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1591419
+SHUFFLE	COMPRESS_BYTE_COUNT	1591423
+SHUFFLE	COPY_MAP_DATA	41035000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1685883
+SHUFFLE	COMPRESS_BYTE_COUNT	1685887
+SHUFFLE	COPY_MAP_DATA	107972000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1599158
+SHUFFLE	COMPRESS_BYTE_COUNT	1599162
+SHUFFLE	COPY_MAP_DATA	156127000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1808322
+SHUFFLE	COMPRESS_BYTE_COUNT	1808326
+SHUFFLE	COPY_MAP_DATA	274273000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1547042
+SHUFFLE	COMPRESS_BYTE_COUNT	1547046
+SHUFFLE	COPY_MAP_DATA	53194000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1573831
+SHUFFLE	COMPRESS_BYTE_COUNT	1573835
+SHUFFLE	COPY_MAP_DATA	32709000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1732280
+SHUFFLE	COMPRESS_BYTE_COUNT	1732284
+SHUFFLE	COPY_MAP_DATA	268049000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1845775
+SHUFFLE	COMPRESS_BYTE_COUNT	1845779
+SHUFFLE	COPY_MAP_DATA	58545000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1684028
+SHUFFLE	COMPRESS_BYTE_COUNT	1684032
+SHUFFLE	COPY_MAP_DATA	8253966000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1477674
+SHUFFLE	COMPRESS_BYTE_COUNT	1477678
+SHUFFLE	COPY_MAP_DATA	29314000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1685822
+SHUFFLE	COMPRESS_BYTE_COUNT	1685826
+SHUFFLE	COPY_MAP_DATA	91224000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1601378
+SHUFFLE	COMPRESS_BYTE_COUNT	1601382
+SHUFFLE	COPY_MAP_DATA	53156000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1676316
+SHUFFLE	COMPRESS_BYTE_COUNT	1676320
+SHUFFLE	COPY_MAP_DATA	58783000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1792648
+SHUFFLE	COMPRESS_BYTE_COUNT	1792652
+SHUFFLE	COPY_MAP_DATA	60657000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1595869
+SHUFFLE	COMPRESS_BYTE_COUNT	1595873
+SHUFFLE	COPY_MAP_DATA	1462254000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1504010
+SHUFFLE	COMPRESS_BYTE_COUNT	1504014
+SHUFFLE	COPY_MAP_DATA	368999000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1638330
+SHUFFLE	COMPRESS_BYTE_COUNT	1638334
+SHUFFLE	COPY_MAP_DATA	113109000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1840770
+SHUFFLE	COMPRESS_BYTE_COUNT	1840774
+SHUFFLE	COPY_MAP_DATA	46738000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1585131
+SHUFFLE	COMPRESS_BYTE_COUNT	1585135
+SHUFFLE	COPY_MAP_DATA	464494000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1625579
+SHUFFLE	COMPRESS_BYTE_COUNT	1625583
+SHUFFLE	COPY_MAP_DATA	322360000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1759239
+SHUFFLE	COMPRESS_BYTE_COUNT	1759243
+SHUFFLE	COPY_MAP_DATA	113739000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1605426
+SHUFFLE	COMPRESS_BYTE_COUNT	1605430
+SHUFFLE	COPY_MAP_DATA	626448000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1444874
+SHUFFLE	COMPRESS_BYTE_COUNT	1444878
+SHUFFLE	COPY_MAP_DATA	41184000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1738987
+SHUFFLE	COMPRESS_BYTE_COUNT	1738991
+SHUFFLE	COPY_MAP_DATA	37124000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	823870
+SHUFFLE	COMPRESS_BYTE_COUNT	823874
+SHUFFLE	COPY_MAP_DATA	141044000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	917369
+SHUFFLE	COMPRESS_BYTE_COUNT	917373
+SHUFFLE	COPY_MAP_DATA	90530000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1679622
+SHUFFLE	COMPRESS_BYTE_COUNT	1679626
+SHUFFLE	COPY_MAP_DATA	6228968000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1638380
+SHUFFLE	COMPRESS_BYTE_COUNT	1638384
+SHUFFLE	COPY_MAP_DATA	144804000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1489074
+SHUFFLE	COMPRESS_BYTE_COUNT	1489078
+SHUFFLE	COPY_MAP_DATA	34608000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	871852
+SHUFFLE	COMPRESS_BYTE_COUNT	871856
+SHUFFLE	COPY_MAP_DATA	78457000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	979564
+SHUFFLE	COMPRESS_BYTE_COUNT	979568
+SHUFFLE	COPY_MAP_DATA	21183000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	862760
+SHUFFLE	COMPRESS_BYTE_COUNT	862764
+SHUFFLE	COPY_MAP_DATA	13201000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1808917
+SHUFFLE	COMPRESS_BYTE_COUNT	1808921
+SHUFFLE	COPY_MAP_DATA	71943000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1530151
+SHUFFLE	COMPRESS_BYTE_COUNT	1530155
+SHUFFLE	COPY_MAP_DATA	237300000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1001453
+SHUFFLE	COMPRESS_BYTE_COUNT	1001457
+SHUFFLE	COPY_MAP_DATA	28329000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	978755
+SHUFFLE	COMPRESS_BYTE_COUNT	978759
+SHUFFLE	COPY_MAP_DATA	65613000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1621296
+SHUFFLE	COMPRESS_BYTE_COUNT	1621300
+SHUFFLE	COPY_MAP_DATA	41107000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1792568
+SHUFFLE	COMPRESS_BYTE_COUNT	1792572
+SHUFFLE	COPY_MAP_DATA	148981000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1428530
+SHUFFLE	COMPRESS_BYTE_COUNT	1428534
+SHUFFLE	COPY_MAP_DATA	36198000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1670968
+SHUFFLE	COMPRESS_BYTE_COUNT	1670972
+SHUFFLE	COPY_MAP_DATA	30451000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1059072
+SHUFFLE	COMPRESS_BYTE_COUNT	1059076
+SHUFFLE	COPY_MAP_DATA	3074998000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1661129
+SHUFFLE	COMPRESS_BYTE_COUNT	1661133
+SHUFFLE	COPY_MAP_DATA	39840000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	947413
+SHUFFLE	COMPRESS_BYTE_COUNT	947417
+SHUFFLE	COPY_MAP_DATA	25730000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1759062
+SHUFFLE	COMPRESS_BYTE_COUNT	1759066
+SHUFFLE	COPY_MAP_DATA	31425000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1006495
+SHUFFLE	COMPRESS_BYTE_COUNT	1006499
+SHUFFLE	COPY_MAP_DATA	247302000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1602404
+SHUFFLE	COMPRESS_BYTE_COUNT	1602408
+SHUFFLE	COPY_MAP_DATA	54868000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1564664
+SHUFFLE	COMPRESS_BYTE_COUNT	1564668
+SHUFFLE	COPY_MAP_DATA	49755000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1518439
+SHUFFLE	COMPRESS_BYTE_COUNT	1518443
+SHUFFLE	COPY_MAP_DATA	107368000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	951460
+SHUFFLE	COMPRESS_BYTE_COUNT	951464
+SHUFFLE	COPY_MAP_DATA	76569000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1993142
+SHUFFLE	COMPRESS_BYTE_COUNT	1993146
+SHUFFLE	COPY_MAP_DATA	1067529000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1002223
+SHUFFLE	COMPRESS_BYTE_COUNT	1002227
+SHUFFLE	COPY_MAP_DATA	42391000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	3049459
+SHUFFLE	COMPRESS_BYTE_COUNT	3049463
+SHUFFLE	COPY_MAP_DATA	42837000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	957736
+SHUFFLE	COMPRESS_BYTE_COUNT	957740
+SHUFFLE	COPY_MAP_DATA	38454000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1670274
+SHUFFLE	COMPRESS_BYTE_COUNT	1670278
+SHUFFLE	COPY_MAP_DATA	297074000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1641483
+SHUFFLE	COMPRESS_BYTE_COUNT	1641487
+SHUFFLE	COPY_MAP_DATA	22163000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1000032
+SHUFFLE	COMPRESS_BYTE_COUNT	1000036
+SHUFFLE	COPY_MAP_DATA	57628000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	992760
+SHUFFLE	COMPRESS_BYTE_COUNT	992764
+SHUFFLE	COPY_MAP_DATA	152660000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	989991
+SHUFFLE	COMPRESS_BYTE_COUNT	989995
+SHUFFLE	COPY_MAP_DATA	20575000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	850959
+SHUFFLE	COMPRESS_BYTE_COUNT	850963
+SHUFFLE	COPY_MAP_DATA	55549000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1006308
+SHUFFLE	COMPRESS_BYTE_COUNT	1006312
+SHUFFLE	COPY_MAP_DATA	346998000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1021940
+SHUFFLE	COMPRESS_BYTE_COUNT	1021944
+SHUFFLE	COPY_MAP_DATA	69523000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	938218
+SHUFFLE	COMPRESS_BYTE_COUNT	938222
+SHUFFLE	COPY_MAP_DATA	74040000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	985570
+SHUFFLE	COMPRESS_BYTE_COUNT	985574
+SHUFFLE	COPY_MAP_DATA	226575000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	990203
+SHUFFLE	COMPRESS_BYTE_COUNT	990207
+SHUFFLE	COPY_MAP_DATA	77531000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1008132
+SHUFFLE	COMPRESS_BYTE_COUNT	1008136
+SHUFFLE	COPY_MAP_DATA	107132000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	996109
+SHUFFLE	COMPRESS_BYTE_COUNT	996113
+SHUFFLE	COPY_MAP_DATA	199688000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	985714
+SHUFFLE	COMPRESS_BYTE_COUNT	985718
+SHUFFLE	COPY_MAP_DATA	257469000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	933105
+SHUFFLE	COMPRESS_BYTE_COUNT	933109
+SHUFFLE	COPY_MAP_DATA	571330000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	994678
+SHUFFLE	COMPRESS_BYTE_COUNT	994682
+SHUFFLE	COPY_MAP_DATA	483734000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	985391
+SHUFFLE	COMPRESS_BYTE_COUNT	985395
+SHUFFLE	COPY_MAP_DATA	1040626000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1018834
+SHUFFLE	COMPRESS_BYTE_COUNT	1018838
+SHUFFLE	COPY_MAP_DATA	10752000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	970172
+SHUFFLE	COMPRESS_BYTE_COUNT	970176
+SHUFFLE	COPY_MAP_DATA	60185000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1005770
+SHUFFLE	COMPRESS_BYTE_COUNT	1005774
+SHUFFLE	COPY_MAP_DATA	21964000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1647177
+SHUFFLE	COMPRESS_BYTE_COUNT	1647181
+SHUFFLE	COPY_MAP_DATA	9560470000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1032149
+SHUFFLE	COMPRESS_BYTE_COUNT	1032153
+SHUFFLE	COPY_MAP_DATA	67089000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1032633
+SHUFFLE	COMPRESS_BYTE_COUNT	1032637
+SHUFFLE	COPY_MAP_DATA	46853000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	981336
+SHUFFLE	COMPRESS_BYTE_COUNT	981340
+SHUFFLE	COPY_MAP_DATA	170166000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1086416
+SHUFFLE	COMPRESS_BYTE_COUNT	1086420
+SHUFFLE	COPY_MAP_DATA	96435000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	986828
+SHUFFLE	COMPRESS_BYTE_COUNT	986832
+SHUFFLE	COPY_MAP_DATA	286304000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	990047
+SHUFFLE	COMPRESS_BYTE_COUNT	990051
+SHUFFLE	COPY_MAP_DATA	112210000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	987126
+SHUFFLE	COMPRESS_BYTE_COUNT	987130
+SHUFFLE	COPY_MAP_DATA	443945000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	956574
+SHUFFLE	COMPRESS_BYTE_COUNT	956578
+SHUFFLE	COPY_MAP_DATA	734732000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	975440
+SHUFFLE	COMPRESS_BYTE_COUNT	975444
+SHUFFLE	COPY_MAP_DATA	17934000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1082296
+SHUFFLE	COMPRESS_BYTE_COUNT	1082300
+SHUFFLE	COPY_MAP_DATA	43122000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1067408
+SHUFFLE	COMPRESS_BYTE_COUNT	1067412
+SHUFFLE	COPY_MAP_DATA	70070000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	933501
+SHUFFLE	COMPRESS_BYTE_COUNT	933505
+SHUFFLE	COPY_MAP_DATA	99754000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1051795
+SHUFFLE	COMPRESS_BYTE_COUNT	1051799
+SHUFFLE	COPY_MAP_DATA	144648000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	913900
+SHUFFLE	COMPRESS_BYTE_COUNT	913904
+SHUFFLE	COPY_MAP_DATA	38467000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	911668
+SHUFFLE	COMPRESS_BYTE_COUNT	911672
+SHUFFLE	COPY_MAP_DATA	18387000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	931582
+SHUFFLE	COMPRESS_BYTE_COUNT	931586
+SHUFFLE	COPY_MAP_DATA	73356000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	980361
+SHUFFLE	COMPRESS_BYTE_COUNT	980365
+SHUFFLE	COPY_MAP_DATA	144180000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	995674
+SHUFFLE	COMPRESS_BYTE_COUNT	995678
+SHUFFLE	COPY_MAP_DATA	35937000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	964976
+SHUFFLE	COMPRESS_BYTE_COUNT	964980
+SHUFFLE	COPY_MAP_DATA	196605000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1041586
+SHUFFLE	COMPRESS_BYTE_COUNT	1041590
+SHUFFLE	COPY_MAP_DATA	19345000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	945763
+SHUFFLE	COMPRESS_BYTE_COUNT	945767
+SHUFFLE	COPY_MAP_DATA	139245000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1060869
+SHUFFLE	COMPRESS_BYTE_COUNT	1060873
+SHUFFLE	COPY_MAP_DATA	27415000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	957130
+SHUFFLE	COMPRESS_BYTE_COUNT	957134
+SHUFFLE	COPY_MAP_DATA	77623000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	971337
+SHUFFLE	COMPRESS_BYTE_COUNT	971341
+SHUFFLE	COPY_MAP_DATA	22140000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	996040
+SHUFFLE	COMPRESS_BYTE_COUNT	996044
+SHUFFLE	COPY_MAP_DATA	172582000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	960853
+SHUFFLE	COMPRESS_BYTE_COUNT	960857
+SHUFFLE	COPY_MAP_DATA	113677000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	965194
+SHUFFLE	COMPRESS_BYTE_COUNT	965198
+SHUFFLE	COPY_MAP_DATA	46003000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	918446
+SHUFFLE	COMPRESS_BYTE_COUNT	918450
+SHUFFLE	COPY_MAP_DATA	18421000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	964962
+SHUFFLE	COMPRESS_BYTE_COUNT	964966
+SHUFFLE	COPY_MAP_DATA	46880000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	971430
+SHUFFLE	COMPRESS_BYTE_COUNT	971434
+SHUFFLE	COPY_MAP_DATA	20233000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	891167
+SHUFFLE	COMPRESS_BYTE_COUNT	891171
+SHUFFLE	COPY_MAP_DATA	171759000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1020198
+SHUFFLE	COMPRESS_BYTE_COUNT	1020202
+SHUFFLE	COPY_MAP_DATA	131599000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	929079
+SHUFFLE	COMPRESS_BYTE_COUNT	929083
+SHUFFLE	COPY_MAP_DATA	64435000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	931542
+SHUFFLE	COMPRESS_BYTE_COUNT	931546
+SHUFFLE	COPY_MAP_DATA	18230000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	914576
+SHUFFLE	COMPRESS_BYTE_COUNT	914580
+SHUFFLE	COPY_MAP_DATA	104760000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	943751
+SHUFFLE	COMPRESS_BYTE_COUNT	943755
+SHUFFLE	COPY_MAP_DATA	39061000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	920625
+SHUFFLE	COMPRESS_BYTE_COUNT	920629
+SHUFFLE	COPY_MAP_DATA	99405000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	976367
+SHUFFLE	COMPRESS_BYTE_COUNT	976371
+SHUFFLE	COPY_MAP_DATA	48719000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	912222
+SHUFFLE	COMPRESS_BYTE_COUNT	912226
+SHUFFLE	COPY_MAP_DATA	126075000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	897018
+SHUFFLE	COMPRESS_BYTE_COUNT	897022
+SHUFFLE	COPY_MAP_DATA	16570000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	903028
+SHUFFLE	COMPRESS_BYTE_COUNT	903032
+SHUFFLE	COPY_MAP_DATA	34653000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	944230
+SHUFFLE	COMPRESS_BYTE_COUNT	944234
+SHUFFLE	COPY_MAP_DATA	19512000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	879001
+SHUFFLE	COMPRESS_BYTE_COUNT	879005
+SHUFFLE	COPY_MAP_DATA	15953000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	953614
+SHUFFLE	COMPRESS_BYTE_COUNT	953618
+SHUFFLE	COPY_MAP_DATA	68088000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	927196
+SHUFFLE	COMPRESS_BYTE_COUNT	927200
+SHUFFLE	COPY_MAP_DATA	25486000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	879059
+SHUFFLE	COMPRESS_BYTE_COUNT	879063
+SHUFFLE	COPY_MAP_DATA	18811000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	975673
+SHUFFLE	COMPRESS_BYTE_COUNT	975677
+SHUFFLE	COPY_MAP_DATA	31744000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	958298
+SHUFFLE	COMPRESS_BYTE_COUNT	958302
+SHUFFLE	COPY_MAP_DATA	94952000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	874885
+SHUFFLE	COMPRESS_BYTE_COUNT	874889
+SHUFFLE	COPY_MAP_DATA	10381000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	911771
+SHUFFLE	COMPRESS_BYTE_COUNT	911775
+SHUFFLE	COPY_MAP_DATA	25387000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	931618
+SHUFFLE	COMPRESS_BYTE_COUNT	931622
+SHUFFLE	COPY_MAP_DATA	132773000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	868841
+SHUFFLE	COMPRESS_BYTE_COUNT	868845
+SHUFFLE	COPY_MAP_DATA	29079000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	893954
+SHUFFLE	COMPRESS_BYTE_COUNT	893958
+SHUFFLE	COPY_MAP_DATA	58707000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	917415
+SHUFFLE	COMPRESS_BYTE_COUNT	917419
+SHUFFLE	COPY_MAP_DATA	37040000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	926756
+SHUFFLE	COMPRESS_BYTE_COUNT	926760
+SHUFFLE	COPY_MAP_DATA	40061000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	880169
+SHUFFLE	COMPRESS_BYTE_COUNT	880173
+SHUFFLE	COPY_MAP_DATA	23934000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	919036
+SHUFFLE	COMPRESS_BYTE_COUNT	919040
+SHUFFLE	COPY_MAP_DATA	53674000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	882624
+SHUFFLE	COMPRESS_BYTE_COUNT	882628
+SHUFFLE	COPY_MAP_DATA	21055000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	876986
+SHUFFLE	COMPRESS_BYTE_COUNT	876990
+SHUFFLE	COPY_MAP_DATA	8966000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	871239
+SHUFFLE	COMPRESS_BYTE_COUNT	871243
+SHUFFLE	COPY_MAP_DATA	21119000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	952444
+SHUFFLE	COMPRESS_BYTE_COUNT	952448
+SHUFFLE	COPY_MAP_DATA	75714000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	919118
+SHUFFLE	COMPRESS_BYTE_COUNT	919122
+SHUFFLE	COPY_MAP_DATA	437932000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	920973
+SHUFFLE	COMPRESS_BYTE_COUNT	920977
+SHUFFLE	COPY_MAP_DATA	30342000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	878281
+SHUFFLE	COMPRESS_BYTE_COUNT	878285
+SHUFFLE	COPY_MAP_DATA	100366000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	878193
+SHUFFLE	COMPRESS_BYTE_COUNT	878197
+SHUFFLE	COPY_MAP_DATA	22439000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	873162
+SHUFFLE	COMPRESS_BYTE_COUNT	873166
+SHUFFLE	COPY_MAP_DATA	70095000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	839513
+SHUFFLE	COMPRESS_BYTE_COUNT	839517
+SHUFFLE	COPY_MAP_DATA	1466595000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	872869
+SHUFFLE	COMPRESS_BYTE_COUNT	872873
+SHUFFLE	COPY_MAP_DATA	33764000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	892190
+SHUFFLE	COMPRESS_BYTE_COUNT	892194
+SHUFFLE	COPY_MAP_DATA	42622000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	891858
+SHUFFLE	COMPRESS_BYTE_COUNT	891862
+SHUFFLE	COPY_MAP_DATA	75113000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	846688
+SHUFFLE	COMPRESS_BYTE_COUNT	846692
+SHUFFLE	COPY_MAP_DATA	672596000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	885983
+SHUFFLE	COMPRESS_BYTE_COUNT	885987
+SHUFFLE	COPY_MAP_DATA	19159000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	777302
+SHUFFLE	COMPRESS_BYTE_COUNT	777306
+SHUFFLE	COPY_MAP_DATA	19900000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	814591
+SHUFFLE	COMPRESS_BYTE_COUNT	814595
+SHUFFLE	COPY_MAP_DATA	18914000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	837565
+SHUFFLE	COMPRESS_BYTE_COUNT	837569
+SHUFFLE	COPY_MAP_DATA	16825000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	836245
+SHUFFLE	COMPRESS_BYTE_COUNT	836249
+SHUFFLE	COPY_MAP_DATA	25019000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	931924
+SHUFFLE	COMPRESS_BYTE_COUNT	931928
+SHUFFLE	COPY_MAP_DATA	20968000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	834895
+SHUFFLE	COMPRESS_BYTE_COUNT	834899
+SHUFFLE	COPY_MAP_DATA	253351000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	872042
+SHUFFLE	COMPRESS_BYTE_COUNT	872046
+SHUFFLE	COPY_MAP_DATA	18856000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	922113
+SHUFFLE	COMPRESS_BYTE_COUNT	922117
+SHUFFLE	COPY_MAP_DATA	76172000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	935321
+SHUFFLE	COMPRESS_BYTE_COUNT	935325
+SHUFFLE	COPY_MAP_DATA	44344000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	771826
+SHUFFLE	COMPRESS_BYTE_COUNT	771830
+SHUFFLE	COPY_MAP_DATA	82180000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	785298
+SHUFFLE	COMPRESS_BYTE_COUNT	785302
+SHUFFLE	COPY_MAP_DATA	74295000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	861078
+SHUFFLE	COMPRESS_BYTE_COUNT	861082
+SHUFFLE	COPY_MAP_DATA	21319000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	851699
+SHUFFLE	COMPRESS_BYTE_COUNT	851703
+SHUFFLE	COPY_MAP_DATA	44335000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	848348
+SHUFFLE	COMPRESS_BYTE_COUNT	848352
+SHUFFLE	COPY_MAP_DATA	43443000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1324426
+SHUFFLE	COMPRESS_BYTE_COUNT	1324430
+SHUFFLE	COPY_MAP_DATA	22433000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	793384
+SHUFFLE	COMPRESS_BYTE_COUNT	793388
+SHUFFLE	COPY_MAP_DATA	216034000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	753056
+SHUFFLE	COMPRESS_BYTE_COUNT	753060
+SHUFFLE	COPY_MAP_DATA	137225000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	813432
+SHUFFLE	COMPRESS_BYTE_COUNT	813436
+SHUFFLE	COPY_MAP_DATA	19240000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	891737
+SHUFFLE	COMPRESS_BYTE_COUNT	891741
+SHUFFLE	COPY_MAP_DATA	33974000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	854511
+SHUFFLE	COMPRESS_BYTE_COUNT	854515
+SHUFFLE	COPY_MAP_DATA	17516000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	872746
+SHUFFLE	COMPRESS_BYTE_COUNT	872750
+SHUFFLE	COPY_MAP_DATA	16850000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	821228
+SHUFFLE	COMPRESS_BYTE_COUNT	821232
+SHUFFLE	COPY_MAP_DATA	86998000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1037224
+SHUFFLE	COMPRESS_BYTE_COUNT	1037228
+SHUFFLE	COPY_MAP_DATA	43197000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	843687
+SHUFFLE	COMPRESS_BYTE_COUNT	843691
+SHUFFLE	COPY_MAP_DATA	12068000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	925700
+SHUFFLE	COMPRESS_BYTE_COUNT	925704
+SHUFFLE	COPY_MAP_DATA	508212000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	813162
+SHUFFLE	COMPRESS_BYTE_COUNT	813166
+SHUFFLE	COPY_MAP_DATA	1478919000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	840545
+SHUFFLE	COMPRESS_BYTE_COUNT	840549
+SHUFFLE	COPY_MAP_DATA	230681000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	821425
+SHUFFLE	COMPRESS_BYTE_COUNT	821429
+SHUFFLE	COPY_MAP_DATA	534016000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	810823
+SHUFFLE	COMPRESS_BYTE_COUNT	810827
+SHUFFLE	COPY_MAP_DATA	18746000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	832372
+SHUFFLE	COMPRESS_BYTE_COUNT	832376
+SHUFFLE	COPY_MAP_DATA	35763000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	813567
+SHUFFLE	COMPRESS_BYTE_COUNT	813571
+SHUFFLE	COPY_MAP_DATA	17004000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	973031
+SHUFFLE	COMPRESS_BYTE_COUNT	973035
+SHUFFLE	COPY_MAP_DATA	76059000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	750391
+SHUFFLE	COMPRESS_BYTE_COUNT	750395
+SHUFFLE	COPY_MAP_DATA	51063000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	809083
+SHUFFLE	COMPRESS_BYTE_COUNT	809087
+SHUFFLE	COPY_MAP_DATA	1159336000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	776360
+SHUFFLE	COMPRESS_BYTE_COUNT	776364
+SHUFFLE	COPY_MAP_DATA	14514000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	845458
+SHUFFLE	COMPRESS_BYTE_COUNT	845462
+SHUFFLE	COPY_MAP_DATA	44034000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	880523
+SHUFFLE	COMPRESS_BYTE_COUNT	880527
+SHUFFLE	COPY_MAP_DATA	35231000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	749807
+SHUFFLE	COMPRESS_BYTE_COUNT	749811
+SHUFFLE	COPY_MAP_DATA	591451000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	865495
+SHUFFLE	COMPRESS_BYTE_COUNT	865499
+SHUFFLE	COPY_MAP_DATA	91120000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	756883
+SHUFFLE	COMPRESS_BYTE_COUNT	756887
+SHUFFLE	COPY_MAP_DATA	21834000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	822952
+SHUFFLE	COMPRESS_BYTE_COUNT	822956
+SHUFFLE	COPY_MAP_DATA	151582000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	771642
+SHUFFLE	COMPRESS_BYTE_COUNT	771646
+SHUFFLE	COPY_MAP_DATA	23664000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	782442
+SHUFFLE	COMPRESS_BYTE_COUNT	782446
+SHUFFLE	COPY_MAP_DATA	27716000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	773961
+SHUFFLE	COMPRESS_BYTE_COUNT	773965
+SHUFFLE	COPY_MAP_DATA	92589000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	760490
+SHUFFLE	COMPRESS_BYTE_COUNT	760494
+SHUFFLE	COPY_MAP_DATA	197652000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	764020
+SHUFFLE	COMPRESS_BYTE_COUNT	764024
+SHUFFLE	COPY_MAP_DATA	26040000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	834846
+SHUFFLE	COMPRESS_BYTE_COUNT	834850
+SHUFFLE	COPY_MAP_DATA	64949000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	762643
+SHUFFLE	COMPRESS_BYTE_COUNT	762647
+SHUFFLE	COPY_MAP_DATA	144498000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	878718
+SHUFFLE	COMPRESS_BYTE_COUNT	878722
+SHUFFLE	COPY_MAP_DATA	23682000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1156099
+SHUFFLE	COMPRESS_BYTE_COUNT	1156103
+SHUFFLE	COPY_MAP_DATA	67747000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	784240
+SHUFFLE	COMPRESS_BYTE_COUNT	784244
+SHUFFLE	COPY_MAP_DATA	538348000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	806772
+SHUFFLE	COMPRESS_BYTE_COUNT	806776
+SHUFFLE	COPY_MAP_DATA	17100000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	881449
+SHUFFLE	COMPRESS_BYTE_COUNT	881453
+SHUFFLE	COPY_MAP_DATA	25341000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	889254
+SHUFFLE	COMPRESS_BYTE_COUNT	889258
+SHUFFLE	COPY_MAP_DATA	161956000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	737706
+SHUFFLE	COMPRESS_BYTE_COUNT	737710
+SHUFFLE	COPY_MAP_DATA	35269000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	785974
+SHUFFLE	COMPRESS_BYTE_COUNT	785978
+SHUFFLE	COPY_MAP_DATA	17848000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	787324
+SHUFFLE	COMPRESS_BYTE_COUNT	787328
+SHUFFLE	COPY_MAP_DATA	134490000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1020824
+SHUFFLE	COMPRESS_BYTE_COUNT	1020828
+SHUFFLE	COPY_MAP_DATA	22591000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	732169
+SHUFFLE	COMPRESS_BYTE_COUNT	732173
+SHUFFLE	COPY_MAP_DATA	175827000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	764602
+SHUFFLE	COMPRESS_BYTE_COUNT	764606
+SHUFFLE	COPY_MAP_DATA	420013000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	744830
+SHUFFLE	COMPRESS_BYTE_COUNT	744834
+SHUFFLE	COPY_MAP_DATA	29148000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	779573
+SHUFFLE	COMPRESS_BYTE_COUNT	779577
+SHUFFLE	COPY_MAP_DATA	310773000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	795618
+SHUFFLE	COMPRESS_BYTE_COUNT	795622
+SHUFFLE	COPY_MAP_DATA	161683000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	785998
+SHUFFLE	COMPRESS_BYTE_COUNT	786002
+SHUFFLE	COPY_MAP_DATA	1058057000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1156771
+SHUFFLE	COMPRESS_BYTE_COUNT	1156775
+SHUFFLE	COPY_MAP_DATA	128285000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	771843
+SHUFFLE	COMPRESS_BYTE_COUNT	771847
+SHUFFLE	COPY_MAP_DATA	85240000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	917241
+SHUFFLE	COMPRESS_BYTE_COUNT	917245
+SHUFFLE	COPY_MAP_DATA	194675000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	793868
+SHUFFLE	COMPRESS_BYTE_COUNT	793872
+SHUFFLE	COPY_MAP_DATA	27811000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	840430
+SHUFFLE	COMPRESS_BYTE_COUNT	840434
+SHUFFLE	COPY_MAP_DATA	68682000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	823003
+SHUFFLE	COMPRESS_BYTE_COUNT	823007
+SHUFFLE	COPY_MAP_DATA	65430000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	772868
+SHUFFLE	COMPRESS_BYTE_COUNT	772872
+SHUFFLE	COPY_MAP_DATA	1535329000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	831713
+SHUFFLE	COMPRESS_BYTE_COUNT	831717
+SHUFFLE	COPY_MAP_DATA	8984000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	848354
+SHUFFLE	COMPRESS_BYTE_COUNT	848358
+SHUFFLE	COPY_MAP_DATA	32544000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	760266
+SHUFFLE	COMPRESS_BYTE_COUNT	760270
+SHUFFLE	COPY_MAP_DATA	234781000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	899205
+SHUFFLE	COMPRESS_BYTE_COUNT	899209
+SHUFFLE	COPY_MAP_DATA	16832000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	872453
+SHUFFLE	COMPRESS_BYTE_COUNT	872457
+SHUFFLE	COPY_MAP_DATA	21015000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	741485
+SHUFFLE	COMPRESS_BYTE_COUNT	741489
+SHUFFLE	COPY_MAP_DATA	3663492000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	766534
+SHUFFLE	COMPRESS_BYTE_COUNT	766538
+SHUFFLE	COPY_MAP_DATA	14232000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	836373
+SHUFFLE	COMPRESS_BYTE_COUNT	836377
+SHUFFLE	COPY_MAP_DATA	2711300000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	713656
+SHUFFLE	COMPRESS_BYTE_COUNT	713660
+SHUFFLE	COPY_MAP_DATA	94973000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	812215
+SHUFFLE	COMPRESS_BYTE_COUNT	812219
+SHUFFLE	COPY_MAP_DATA	17245000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	890654
+SHUFFLE	COMPRESS_BYTE_COUNT	890658
+SHUFFLE	COPY_MAP_DATA	52106000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	822937
+SHUFFLE	COMPRESS_BYTE_COUNT	822941
+SHUFFLE	COPY_MAP_DATA	1733151000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	850929
+SHUFFLE	COMPRESS_BYTE_COUNT	850933
+SHUFFLE	COPY_MAP_DATA	69009000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1045154
+SHUFFLE	COMPRESS_BYTE_COUNT	1045158
+SHUFFLE	COPY_MAP_DATA	24344000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	701752
+SHUFFLE	COMPRESS_BYTE_COUNT	701756
+SHUFFLE	COPY_MAP_DATA	214800000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	833571
+SHUFFLE	COMPRESS_BYTE_COUNT	833575
+SHUFFLE	COPY_MAP_DATA	60610000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	798515
+SHUFFLE	COMPRESS_BYTE_COUNT	798519
+SHUFFLE	COPY_MAP_DATA	115894000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	769329
+SHUFFLE	COMPRESS_BYTE_COUNT	769333
+SHUFFLE	COPY_MAP_DATA	13467000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	741485
+SHUFFLE	COMPRESS_BYTE_COUNT	741489
+SHUFFLE	COPY_MAP_DATA	81854000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	830765
+SHUFFLE	COMPRESS_BYTE_COUNT	830769
+SHUFFLE	COPY_MAP_DATA	1325468000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	782784
+SHUFFLE	COMPRESS_BYTE_COUNT	782788
+SHUFFLE	COPY_MAP_DATA	2203903848
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	900676
+SHUFFLE	COMPRESS_BYTE_COUNT	900680
+SHUFFLE	COPY_MAP_DATA	18556000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	875329
+SHUFFLE	COMPRESS_BYTE_COUNT	875333
+SHUFFLE	COPY_MAP_DATA	24879000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	847339
+SHUFFLE	COMPRESS_BYTE_COUNT	847343
+SHUFFLE	COPY_MAP_DATA	14099000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	733901
+SHUFFLE	COMPRESS_BYTE_COUNT	733905
+SHUFFLE	COPY_MAP_DATA	823829000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1273400
+SHUFFLE	COMPRESS_BYTE_COUNT	1273404
+SHUFFLE	COPY_MAP_DATA	20060000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	757074
+SHUFFLE	COMPRESS_BYTE_COUNT	757078
+SHUFFLE	COPY_MAP_DATA	13629000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	694485
+SHUFFLE	COMPRESS_BYTE_COUNT	694489
+SHUFFLE	COPY_MAP_DATA	8495000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	771765
+SHUFFLE	COMPRESS_BYTE_COUNT	771769
+SHUFFLE	COPY_MAP_DATA	16985000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	886240
+SHUFFLE	COMPRESS_BYTE_COUNT	886244
+SHUFFLE	COPY_MAP_DATA	17501000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	745913
+SHUFFLE	COMPRESS_BYTE_COUNT	745917
+SHUFFLE	COPY_MAP_DATA	19034000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	770477
+SHUFFLE	COMPRESS_BYTE_COUNT	770481
+SHUFFLE	COPY_MAP_DATA	10930000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	818678
+SHUFFLE	COMPRESS_BYTE_COUNT	818682
+SHUFFLE	COPY_MAP_DATA	14261000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	828501
+SHUFFLE	COMPRESS_BYTE_COUNT	828505
+SHUFFLE	COPY_MAP_DATA	32882000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	776830
+SHUFFLE	COMPRESS_BYTE_COUNT	776834
+SHUFFLE	COPY_MAP_DATA	18138000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	858701
+SHUFFLE	COMPRESS_BYTE_COUNT	858705
+SHUFFLE	COPY_MAP_DATA	16625000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	630017
+SHUFFLE	COMPRESS_BYTE_COUNT	630021
+SHUFFLE	COPY_MAP_DATA	31834000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	749112
+SHUFFLE	COMPRESS_BYTE_COUNT	749116
+SHUFFLE	COPY_MAP_DATA	11878000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	975348
+SHUFFLE	COMPRESS_BYTE_COUNT	975352
+SHUFFLE	COPY_MAP_DATA	17509000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	953691
+SHUFFLE	COMPRESS_BYTE_COUNT	953695
+SHUFFLE	COPY_MAP_DATA	17725000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	799159
+SHUFFLE	COMPRESS_BYTE_COUNT	799163
+SHUFFLE	COPY_MAP_DATA	78467000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	869810
+SHUFFLE	COMPRESS_BYTE_COUNT	869814
+SHUFFLE	COPY_MAP_DATA	18409000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1725035
+SHUFFLE	COMPRESS_BYTE_COUNT	1725039
+SHUFFLE	COPY_MAP_DATA	25379000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	730364
+SHUFFLE	COMPRESS_BYTE_COUNT	730368
+SHUFFLE	COPY_MAP_DATA	48987000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	116402594000
+MERGE	READ_WRITE	113752894000
+MERGE	READ_WRITE_COUNT	2
+MERGE	COMBINE	0
+MERGE	WRITE	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	17567287000
+SORT	READ_WRITE	17123685000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	143654344
+REDUCE	SETUP	347000
+REDUCE	SETUP_MEM	143654344
+REDUCE	CLEANUP	37000
+REDUCE	CLEANUP_MEM	173712264
+REDUCE	TOTAL_RUN	138929456152
+REDUCE	READ	13917410152
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	116419569000
+REDUCE	WRITE	31258054000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	70965090
+REDUCE	VALUE_BYTE_COUNT	64657366
+REDUCE	REDUCE_MEM	173712264
+REDUCE	WRITE	9694000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	690515591436
@@ -0,0 +1,1333 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1998645
+SHUFFLE	COMPRESS_BYTE_COUNT	1998649
+SHUFFLE	COPY_MAP_DATA	643836000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1696521
+SHUFFLE	COMPRESS_BYTE_COUNT	1696525
+SHUFFLE	COPY_MAP_DATA	27092000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1986388
+SHUFFLE	COMPRESS_BYTE_COUNT	1986392
+SHUFFLE	COPY_MAP_DATA	35840000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2042686
+SHUFFLE	COMPRESS_BYTE_COUNT	2042690
+SHUFFLE	COPY_MAP_DATA	99733000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1833042
+SHUFFLE	COMPRESS_BYTE_COUNT	1833046
+SHUFFLE	COPY_MAP_DATA	33278000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1916041
+SHUFFLE	COMPRESS_BYTE_COUNT	1916045
+SHUFFLE	COPY_MAP_DATA	378121000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2089295
+SHUFFLE	COMPRESS_BYTE_COUNT	2089299
+SHUFFLE	COPY_MAP_DATA	86672000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2111099
+SHUFFLE	COMPRESS_BYTE_COUNT	2111103
+SHUFFLE	COPY_MAP_DATA	31274000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2020045
+SHUFFLE	COMPRESS_BYTE_COUNT	2020049
+SHUFFLE	COPY_MAP_DATA	31193000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1868585
+SHUFFLE	COMPRESS_BYTE_COUNT	1868589
+SHUFFLE	COPY_MAP_DATA	39926000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2030939
+SHUFFLE	COMPRESS_BYTE_COUNT	2030943
+SHUFFLE	COPY_MAP_DATA	221773000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2011815
+SHUFFLE	COMPRESS_BYTE_COUNT	2011819
+SHUFFLE	COPY_MAP_DATA	27401000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2099898
+SHUFFLE	COMPRESS_BYTE_COUNT	2099902
+SHUFFLE	COPY_MAP_DATA	17563000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1962128
+SHUFFLE	COMPRESS_BYTE_COUNT	1962132
+SHUFFLE	COPY_MAP_DATA	339894000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2098715
+SHUFFLE	COMPRESS_BYTE_COUNT	2098719
+SHUFFLE	COPY_MAP_DATA	104606000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1999657
+SHUFFLE	COMPRESS_BYTE_COUNT	1999661
+SHUFFLE	COPY_MAP_DATA	35036000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2076041
+SHUFFLE	COMPRESS_BYTE_COUNT	2076045
+SHUFFLE	COPY_MAP_DATA	30252000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1919678
+SHUFFLE	COMPRESS_BYTE_COUNT	1919682
+SHUFFLE	COPY_MAP_DATA	157842000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2022380
+SHUFFLE	COMPRESS_BYTE_COUNT	2022384
+SHUFFLE	COPY_MAP_DATA	27730000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2003679
+SHUFFLE	COMPRESS_BYTE_COUNT	2003683
+SHUFFLE	COPY_MAP_DATA	237002000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2059099
+SHUFFLE	COMPRESS_BYTE_COUNT	2059103
+SHUFFLE	COPY_MAP_DATA	43241000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2229784
+SHUFFLE	COMPRESS_BYTE_COUNT	2229788
+SHUFFLE	COPY_MAP_DATA	106802000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2165606
+SHUFFLE	COMPRESS_BYTE_COUNT	2165610
+SHUFFLE	COPY_MAP_DATA	35049000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2111783
+SHUFFLE	COMPRESS_BYTE_COUNT	2111787
+SHUFFLE	COPY_MAP_DATA	776306000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1974985
+SHUFFLE	COMPRESS_BYTE_COUNT	1974989
+SHUFFLE	COPY_MAP_DATA	478215000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1861453
+SHUFFLE	COMPRESS_BYTE_COUNT	1861457
+SHUFFLE	COPY_MAP_DATA	328282000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2078103
+SHUFFLE	COMPRESS_BYTE_COUNT	2078107
+SHUFFLE	COPY_MAP_DATA	728211000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2086020
+SHUFFLE	COMPRESS_BYTE_COUNT	2086024
+SHUFFLE	COPY_MAP_DATA	44438000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2143218
+SHUFFLE	COMPRESS_BYTE_COUNT	2143222
+SHUFFLE	COPY_MAP_DATA	28656000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2035307
+SHUFFLE	COMPRESS_BYTE_COUNT	2035311
+SHUFFLE	COPY_MAP_DATA	270126000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2075118
+SHUFFLE	COMPRESS_BYTE_COUNT	2075122
+SHUFFLE	COPY_MAP_DATA	1148588000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1904719
+SHUFFLE	COMPRESS_BYTE_COUNT	1904723
+SHUFFLE	COPY_MAP_DATA	26601000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1880288
+SHUFFLE	COMPRESS_BYTE_COUNT	1880292
+SHUFFLE	COPY_MAP_DATA	25969000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1982728
+SHUFFLE	COMPRESS_BYTE_COUNT	1982732
+SHUFFLE	COPY_MAP_DATA	27938000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2156053
+SHUFFLE	COMPRESS_BYTE_COUNT	2156057
+SHUFFLE	COPY_MAP_DATA	119528000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1975185
+SHUFFLE	COMPRESS_BYTE_COUNT	1975189
+SHUFFLE	COPY_MAP_DATA	15843000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1854060
+SHUFFLE	COMPRESS_BYTE_COUNT	1854064
+SHUFFLE	COPY_MAP_DATA	53876000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1834475
+SHUFFLE	COMPRESS_BYTE_COUNT	1834479
+SHUFFLE	COPY_MAP_DATA	728253000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1878404
+SHUFFLE	COMPRESS_BYTE_COUNT	1878408
+SHUFFLE	COPY_MAP_DATA	47478000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1702348
+SHUFFLE	COMPRESS_BYTE_COUNT	1702352
+SHUFFLE	COPY_MAP_DATA	74980000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2056268
+SHUFFLE	COMPRESS_BYTE_COUNT	2056272
+SHUFFLE	COPY_MAP_DATA	51497000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1942861
+SHUFFLE	COMPRESS_BYTE_COUNT	1942865
+SHUFFLE	COPY_MAP_DATA	1526714000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1704520
+SHUFFLE	COMPRESS_BYTE_COUNT	1704524
+SHUFFLE	COPY_MAP_DATA	1518380000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1886011
+SHUFFLE	COMPRESS_BYTE_COUNT	1886015
+SHUFFLE	COPY_MAP_DATA	28775000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1994548
+SHUFFLE	COMPRESS_BYTE_COUNT	1994552
+SHUFFLE	COPY_MAP_DATA	23204000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1895932
+SHUFFLE	COMPRESS_BYTE_COUNT	1895936
+SHUFFLE	COPY_MAP_DATA	320988000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1793397
+SHUFFLE	COMPRESS_BYTE_COUNT	1793401
+SHUFFLE	COPY_MAP_DATA	172799000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1924391
+SHUFFLE	COMPRESS_BYTE_COUNT	1924395
+SHUFFLE	COPY_MAP_DATA	26864000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2011348
+SHUFFLE	COMPRESS_BYTE_COUNT	2011352
+SHUFFLE	COPY_MAP_DATA	701015000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1816962
+SHUFFLE	COMPRESS_BYTE_COUNT	1816966
+SHUFFLE	COPY_MAP_DATA	36671000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1917364
+SHUFFLE	COMPRESS_BYTE_COUNT	1917368
+SHUFFLE	COPY_MAP_DATA	24495000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1630343
+SHUFFLE	COMPRESS_BYTE_COUNT	1630347
+SHUFFLE	COPY_MAP_DATA	18076000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1758648
+SHUFFLE	COMPRESS_BYTE_COUNT	1758652
+SHUFFLE	COPY_MAP_DATA	42771000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2080231
+SHUFFLE	COMPRESS_BYTE_COUNT	2080235
+SHUFFLE	COPY_MAP_DATA	962550000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1759661
+SHUFFLE	COMPRESS_BYTE_COUNT	1759665
+SHUFFLE	COPY_MAP_DATA	24561000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1920210
+SHUFFLE	COMPRESS_BYTE_COUNT	1920214
+SHUFFLE	COPY_MAP_DATA	822873000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1963749
+SHUFFLE	COMPRESS_BYTE_COUNT	1963753
+SHUFFLE	COPY_MAP_DATA	278970000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1906083
+SHUFFLE	COMPRESS_BYTE_COUNT	1906087
+SHUFFLE	COPY_MAP_DATA	483816000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1831244
+SHUFFLE	COMPRESS_BYTE_COUNT	1831248
+SHUFFLE	COPY_MAP_DATA	39171000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1772387
+SHUFFLE	COMPRESS_BYTE_COUNT	1772391
+SHUFFLE	COPY_MAP_DATA	472331000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1903060
+SHUFFLE	COMPRESS_BYTE_COUNT	1903064
+SHUFFLE	COPY_MAP_DATA	122636000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1650306
+SHUFFLE	COMPRESS_BYTE_COUNT	1650310
+SHUFFLE	COPY_MAP_DATA	50037000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1616728
+SHUFFLE	COMPRESS_BYTE_COUNT	1616732
+SHUFFLE	COPY_MAP_DATA	1238355000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1848864
+SHUFFLE	COMPRESS_BYTE_COUNT	1848868
+SHUFFLE	COPY_MAP_DATA	18820000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1703430
+SHUFFLE	COMPRESS_BYTE_COUNT	1703434
+SHUFFLE	COPY_MAP_DATA	35694000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1714926
+SHUFFLE	COMPRESS_BYTE_COUNT	1714930
+SHUFFLE	COPY_MAP_DATA	26012000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1624903
+SHUFFLE	COMPRESS_BYTE_COUNT	1624907
+SHUFFLE	COPY_MAP_DATA	227474000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1687751
+SHUFFLE	COMPRESS_BYTE_COUNT	1687755
+SHUFFLE	COPY_MAP_DATA	19037000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1697389
+SHUFFLE	COMPRESS_BYTE_COUNT	1697393
+SHUFFLE	COPY_MAP_DATA	12077164000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1836439
+SHUFFLE	COMPRESS_BYTE_COUNT	1836443
+SHUFFLE	COPY_MAP_DATA	34886000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1699696
+SHUFFLE	COMPRESS_BYTE_COUNT	1699700
+SHUFFLE	COPY_MAP_DATA	320679000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1676642
+SHUFFLE	COMPRESS_BYTE_COUNT	1676646
+SHUFFLE	COPY_MAP_DATA	406692000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1611346
+SHUFFLE	COMPRESS_BYTE_COUNT	1611350
+SHUFFLE	COPY_MAP_DATA	25040000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1903922
+SHUFFLE	COMPRESS_BYTE_COUNT	1903926
+SHUFFLE	COPY_MAP_DATA	117825000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1659469
+SHUFFLE	COMPRESS_BYTE_COUNT	1659473
+SHUFFLE	COPY_MAP_DATA	164038000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1746333
+SHUFFLE	COMPRESS_BYTE_COUNT	1746337
+SHUFFLE	COPY_MAP_DATA	319224000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1631398
+SHUFFLE	COMPRESS_BYTE_COUNT	1631402
+SHUFFLE	COPY_MAP_DATA	25543000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1921946
+SHUFFLE	COMPRESS_BYTE_COUNT	1921950
+SHUFFLE	COPY_MAP_DATA	279093000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1670805
+SHUFFLE	COMPRESS_BYTE_COUNT	1670809
+SHUFFLE	COPY_MAP_DATA	211219000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1802803
+SHUFFLE	COMPRESS_BYTE_COUNT	1802807
+SHUFFLE	COPY_MAP_DATA	99837000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1529875
+SHUFFLE	COMPRESS_BYTE_COUNT	1529879
+SHUFFLE	COPY_MAP_DATA	1721292000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1927948
+SHUFFLE	COMPRESS_BYTE_COUNT	1927952
+SHUFFLE	COPY_MAP_DATA	47455000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1832079
+SHUFFLE	COMPRESS_BYTE_COUNT	1832083
+SHUFFLE	COPY_MAP_DATA	369643000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1745936
+SHUFFLE	COMPRESS_BYTE_COUNT	1745940
+SHUFFLE	COPY_MAP_DATA	200884000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1723138
+SHUFFLE	COMPRESS_BYTE_COUNT	1723142
+SHUFFLE	COPY_MAP_DATA	147732000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1623398
+SHUFFLE	COMPRESS_BYTE_COUNT	1623402
+SHUFFLE	COPY_MAP_DATA	31081000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1574873
+SHUFFLE	COMPRESS_BYTE_COUNT	1574877
+SHUFFLE	COPY_MAP_DATA	11427104000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1601734
+SHUFFLE	COMPRESS_BYTE_COUNT	1601738
+SHUFFLE	COPY_MAP_DATA	381831000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1814214
+SHUFFLE	COMPRESS_BYTE_COUNT	1814218
+SHUFFLE	COPY_MAP_DATA	80533000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	808101
+SHUFFLE	COMPRESS_BYTE_COUNT	808105
+SHUFFLE	COPY_MAP_DATA	784716000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	955613
+SHUFFLE	COMPRESS_BYTE_COUNT	955617
+SHUFFLE	COPY_MAP_DATA	1710024000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1659689
+SHUFFLE	COMPRESS_BYTE_COUNT	1659693
+SHUFFLE	COPY_MAP_DATA	62299000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	877431
+SHUFFLE	COMPRESS_BYTE_COUNT	877435
+SHUFFLE	COPY_MAP_DATA	45976000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1843403
+SHUFFLE	COMPRESS_BYTE_COUNT	1843407
+SHUFFLE	COPY_MAP_DATA	1263184000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1001239
+SHUFFLE	COMPRESS_BYTE_COUNT	1001243
+SHUFFLE	COPY_MAP_DATA	51504000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1706944
+SHUFFLE	COMPRESS_BYTE_COUNT	1706948
+SHUFFLE	COPY_MAP_DATA	32134000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	888422
+SHUFFLE	COMPRESS_BYTE_COUNT	888426
+SHUFFLE	COPY_MAP_DATA	21290000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1541147
+SHUFFLE	COMPRESS_BYTE_COUNT	1541151
+SHUFFLE	COPY_MAP_DATA	67871000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1559700
+SHUFFLE	COMPRESS_BYTE_COUNT	1559704
+SHUFFLE	COPY_MAP_DATA	25266000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1484460
+SHUFFLE	COMPRESS_BYTE_COUNT	1484464
+SHUFFLE	COPY_MAP_DATA	36198000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1050461
+SHUFFLE	COMPRESS_BYTE_COUNT	1050465
+SHUFFLE	COPY_MAP_DATA	24407000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1807767
+SHUFFLE	COMPRESS_BYTE_COUNT	1807771
+SHUFFLE	COPY_MAP_DATA	37005000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1998880
+SHUFFLE	COMPRESS_BYTE_COUNT	1998884
+SHUFFLE	COPY_MAP_DATA	39266000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1134698
+SHUFFLE	COMPRESS_BYTE_COUNT	1134702
+SHUFFLE	COPY_MAP_DATA	20093000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1700938
+SHUFFLE	COMPRESS_BYTE_COUNT	1700942
+SHUFFLE	COPY_MAP_DATA	85629000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1059576
+SHUFFLE	COMPRESS_BYTE_COUNT	1059580
+SHUFFLE	COPY_MAP_DATA	60702000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1901171
+SHUFFLE	COMPRESS_BYTE_COUNT	1901175
+SHUFFLE	COPY_MAP_DATA	841350000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1846232
+SHUFFLE	COMPRESS_BYTE_COUNT	1846236
+SHUFFLE	COPY_MAP_DATA	437361000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1022688
+SHUFFLE	COMPRESS_BYTE_COUNT	1022692
+SHUFFLE	COPY_MAP_DATA	27632000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1644041
+SHUFFLE	COMPRESS_BYTE_COUNT	1644045
+SHUFFLE	COPY_MAP_DATA	32642000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1481929
+SHUFFLE	COMPRESS_BYTE_COUNT	1481933
+SHUFFLE	COPY_MAP_DATA	28373000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1647149
+SHUFFLE	COMPRESS_BYTE_COUNT	1647153
+SHUFFLE	COPY_MAP_DATA	126517000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	976971
+SHUFFLE	COMPRESS_BYTE_COUNT	976975
+SHUFFLE	COPY_MAP_DATA	985937000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1891486
+SHUFFLE	COMPRESS_BYTE_COUNT	1891490
+SHUFFLE	COPY_MAP_DATA	29616000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1061324
+SHUFFLE	COMPRESS_BYTE_COUNT	1061328
+SHUFFLE	COPY_MAP_DATA	819534000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1004449
+SHUFFLE	COMPRESS_BYTE_COUNT	1004453
+SHUFFLE	COPY_MAP_DATA	359219000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	976403
+SHUFFLE	COMPRESS_BYTE_COUNT	976407
+SHUFFLE	COPY_MAP_DATA	379341000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1890252
+SHUFFLE	COMPRESS_BYTE_COUNT	1890256
+SHUFFLE	COPY_MAP_DATA	537190000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1707027
+SHUFFLE	COMPRESS_BYTE_COUNT	1707031
+SHUFFLE	COPY_MAP_DATA	139111000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1694230
+SHUFFLE	COMPRESS_BYTE_COUNT	1694234
+SHUFFLE	COPY_MAP_DATA	199512000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1059305
+SHUFFLE	COMPRESS_BYTE_COUNT	1059309
+SHUFFLE	COPY_MAP_DATA	598188000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1042343
+SHUFFLE	COMPRESS_BYTE_COUNT	1042347
+SHUFFLE	COPY_MAP_DATA	828713000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1029131
+SHUFFLE	COMPRESS_BYTE_COUNT	1029135
+SHUFFLE	COPY_MAP_DATA	78128000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1089357
+SHUFFLE	COMPRESS_BYTE_COUNT	1089361
+SHUFFLE	COPY_MAP_DATA	715818000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	860216
+SHUFFLE	COMPRESS_BYTE_COUNT	860220
+SHUFFLE	COPY_MAP_DATA	196210000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1106303
+SHUFFLE	COMPRESS_BYTE_COUNT	1106307
+SHUFFLE	COPY_MAP_DATA	267224000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1037540
+SHUFFLE	COMPRESS_BYTE_COUNT	1037544
+SHUFFLE	COPY_MAP_DATA	9485000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1005618
+SHUFFLE	COMPRESS_BYTE_COUNT	1005622
+SHUFFLE	COPY_MAP_DATA	17458000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1026446
+SHUFFLE	COMPRESS_BYTE_COUNT	1026450
+SHUFFLE	COPY_MAP_DATA	1950988000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	958085
+SHUFFLE	COMPRESS_BYTE_COUNT	958089
+SHUFFLE	COPY_MAP_DATA	26399000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1045365
+SHUFFLE	COMPRESS_BYTE_COUNT	1045369
+SHUFFLE	COPY_MAP_DATA	18826000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1035054
+SHUFFLE	COMPRESS_BYTE_COUNT	1035058
+SHUFFLE	COPY_MAP_DATA	678941000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1004045
+SHUFFLE	COMPRESS_BYTE_COUNT	1004049
+SHUFFLE	COPY_MAP_DATA	23157000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1054535
+SHUFFLE	COMPRESS_BYTE_COUNT	1054539
+SHUFFLE	COPY_MAP_DATA	557238000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1032596
+SHUFFLE	COMPRESS_BYTE_COUNT	1032600
+SHUFFLE	COPY_MAP_DATA	5927370000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1007634
+SHUFFLE	COMPRESS_BYTE_COUNT	1007638
+SHUFFLE	COPY_MAP_DATA	40398000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1039906
+SHUFFLE	COMPRESS_BYTE_COUNT	1039910
+SHUFFLE	COPY_MAP_DATA	75835000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1686940
+SHUFFLE	COMPRESS_BYTE_COUNT	1686944
+SHUFFLE	COPY_MAP_DATA	9741280000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1056374
+SHUFFLE	COMPRESS_BYTE_COUNT	1056378
+SHUFFLE	COPY_MAP_DATA	32146000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1037580
+SHUFFLE	COMPRESS_BYTE_COUNT	1037584
+SHUFFLE	COPY_MAP_DATA	112974000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1037703
+SHUFFLE	COMPRESS_BYTE_COUNT	1037707
+SHUFFLE	COPY_MAP_DATA	28216000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1140429
+SHUFFLE	COMPRESS_BYTE_COUNT	1140433
+SHUFFLE	COPY_MAP_DATA	56139000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1015520
+SHUFFLE	COMPRESS_BYTE_COUNT	1015524
+SHUFFLE	COPY_MAP_DATA	436057000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1038199
+SHUFFLE	COMPRESS_BYTE_COUNT	1038203
+SHUFFLE	COPY_MAP_DATA	22923000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	981941
+SHUFFLE	COMPRESS_BYTE_COUNT	981945
+SHUFFLE	COPY_MAP_DATA	1169594000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1034928
+SHUFFLE	COMPRESS_BYTE_COUNT	1034932
+SHUFFLE	COPY_MAP_DATA	1265794000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	979181
+SHUFFLE	COMPRESS_BYTE_COUNT	979185
+SHUFFLE	COPY_MAP_DATA	468457000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1033596
+SHUFFLE	COMPRESS_BYTE_COUNT	1033600
+SHUFFLE	COPY_MAP_DATA	646008000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1110624
+SHUFFLE	COMPRESS_BYTE_COUNT	1110628
+SHUFFLE	COPY_MAP_DATA	249163000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1037992
+SHUFFLE	COMPRESS_BYTE_COUNT	1037996
+SHUFFLE	COPY_MAP_DATA	2401061000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1020992
+SHUFFLE	COMPRESS_BYTE_COUNT	1020996
+SHUFFLE	COPY_MAP_DATA	455591000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1051594
+SHUFFLE	COMPRESS_BYTE_COUNT	1051598
+SHUFFLE	COPY_MAP_DATA	676521000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1042447
+SHUFFLE	COMPRESS_BYTE_COUNT	1042451
+SHUFFLE	COPY_MAP_DATA	1971320000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	980749
+SHUFFLE	COMPRESS_BYTE_COUNT	980753
+SHUFFLE	COPY_MAP_DATA	495093000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	983420
+SHUFFLE	COMPRESS_BYTE_COUNT	983424
+SHUFFLE	COPY_MAP_DATA	194568000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	990916
+SHUFFLE	COMPRESS_BYTE_COUNT	990920
+SHUFFLE	COPY_MAP_DATA	95993000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1095856
+SHUFFLE	COMPRESS_BYTE_COUNT	1095860
+SHUFFLE	COPY_MAP_DATA	601829000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1021109
+SHUFFLE	COMPRESS_BYTE_COUNT	1021113
+SHUFFLE	COPY_MAP_DATA	13215000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1009949
+SHUFFLE	COMPRESS_BYTE_COUNT	1009953
+SHUFFLE	COPY_MAP_DATA	9345000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1007995
+SHUFFLE	COMPRESS_BYTE_COUNT	1007999
+SHUFFLE	COPY_MAP_DATA	225403000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1016696
+SHUFFLE	COMPRESS_BYTE_COUNT	1016700
+SHUFFLE	COPY_MAP_DATA	17767000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1023163
+SHUFFLE	COMPRESS_BYTE_COUNT	1023167
+SHUFFLE	COPY_MAP_DATA	202950000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1004165
+SHUFFLE	COMPRESS_BYTE_COUNT	1004169
+SHUFFLE	COPY_MAP_DATA	18222000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1060199
+SHUFFLE	COMPRESS_BYTE_COUNT	1060203
+SHUFFLE	COPY_MAP_DATA	139303000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1039574
+SHUFFLE	COMPRESS_BYTE_COUNT	1039578
+SHUFFLE	COPY_MAP_DATA	68744000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1087532
+SHUFFLE	COMPRESS_BYTE_COUNT	1087536
+SHUFFLE	COPY_MAP_DATA	20201000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	990385
+SHUFFLE	COMPRESS_BYTE_COUNT	990389
+SHUFFLE	COPY_MAP_DATA	18956000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	975792
+SHUFFLE	COMPRESS_BYTE_COUNT	975796
+SHUFFLE	COPY_MAP_DATA	19295000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1016764
+SHUFFLE	COMPRESS_BYTE_COUNT	1016768
+SHUFFLE	COPY_MAP_DATA	16093000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	990279
+SHUFFLE	COMPRESS_BYTE_COUNT	990283
+SHUFFLE	COPY_MAP_DATA	17244000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	935294
+SHUFFLE	COMPRESS_BYTE_COUNT	935298
+SHUFFLE	COPY_MAP_DATA	16633000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	999310
+SHUFFLE	COMPRESS_BYTE_COUNT	999314
+SHUFFLE	COPY_MAP_DATA	16688000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	968753
+SHUFFLE	COMPRESS_BYTE_COUNT	968757
+SHUFFLE	COPY_MAP_DATA	261438000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	988654
+SHUFFLE	COMPRESS_BYTE_COUNT	988658
+SHUFFLE	COPY_MAP_DATA	48422000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1019466
+SHUFFLE	COMPRESS_BYTE_COUNT	1019470
+SHUFFLE	COPY_MAP_DATA	1588525000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	936082
+SHUFFLE	COMPRESS_BYTE_COUNT	936086
+SHUFFLE	COPY_MAP_DATA	18675000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	975222
+SHUFFLE	COMPRESS_BYTE_COUNT	975226
+SHUFFLE	COPY_MAP_DATA	539029000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	952584
+SHUFFLE	COMPRESS_BYTE_COUNT	952588
+SHUFFLE	COPY_MAP_DATA	118677000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	968639
+SHUFFLE	COMPRESS_BYTE_COUNT	968643
+SHUFFLE	COPY_MAP_DATA	233576000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	999765
+SHUFFLE	COMPRESS_BYTE_COUNT	999769
+SHUFFLE	COPY_MAP_DATA	289748000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1003355
+SHUFFLE	COMPRESS_BYTE_COUNT	1003359
+SHUFFLE	COPY_MAP_DATA	313885000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	960367
+SHUFFLE	COMPRESS_BYTE_COUNT	960371
+SHUFFLE	COPY_MAP_DATA	216519000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	987698
+SHUFFLE	COMPRESS_BYTE_COUNT	987702
+SHUFFLE	COPY_MAP_DATA	76782000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	959313
+SHUFFLE	COMPRESS_BYTE_COUNT	959317
+SHUFFLE	COPY_MAP_DATA	27964000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1019789
+SHUFFLE	COMPRESS_BYTE_COUNT	1019793
+SHUFFLE	COPY_MAP_DATA	9701000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	977331
+SHUFFLE	COMPRESS_BYTE_COUNT	977335
+SHUFFLE	COPY_MAP_DATA	8696000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	998611
+SHUFFLE	COMPRESS_BYTE_COUNT	998615
+SHUFFLE	COPY_MAP_DATA	778898000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	934100
+SHUFFLE	COMPRESS_BYTE_COUNT	934104
+SHUFFLE	COPY_MAP_DATA	28011000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	928350
+SHUFFLE	COMPRESS_BYTE_COUNT	928354
+SHUFFLE	COPY_MAP_DATA	21662000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	918387
+SHUFFLE	COMPRESS_BYTE_COUNT	918391
+SHUFFLE	COPY_MAP_DATA	18933000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	902473
+SHUFFLE	COMPRESS_BYTE_COUNT	902477
+SHUFFLE	COPY_MAP_DATA	1435187000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	959606
+SHUFFLE	COMPRESS_BYTE_COUNT	959610
+SHUFFLE	COPY_MAP_DATA	17937000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	904498
+SHUFFLE	COMPRESS_BYTE_COUNT	904502
+SHUFFLE	COPY_MAP_DATA	27567000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	967584
+SHUFFLE	COMPRESS_BYTE_COUNT	967588
+SHUFFLE	COPY_MAP_DATA	17786000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	917743
+SHUFFLE	COMPRESS_BYTE_COUNT	917747
+SHUFFLE	COPY_MAP_DATA	2286399000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	997856
+SHUFFLE	COMPRESS_BYTE_COUNT	997860
+SHUFFLE	COPY_MAP_DATA	16769000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	886578
+SHUFFLE	COMPRESS_BYTE_COUNT	886582
+SHUFFLE	COPY_MAP_DATA	15759000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	948999
+SHUFFLE	COMPRESS_BYTE_COUNT	949003
+SHUFFLE	COPY_MAP_DATA	17753000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	976365
+SHUFFLE	COMPRESS_BYTE_COUNT	976369
+SHUFFLE	COPY_MAP_DATA	9365859000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	944901
+SHUFFLE	COMPRESS_BYTE_COUNT	944905
+SHUFFLE	COPY_MAP_DATA	66416000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	942781
+SHUFFLE	COMPRESS_BYTE_COUNT	942785
+SHUFFLE	COPY_MAP_DATA	18426000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	935625
+SHUFFLE	COMPRESS_BYTE_COUNT	935629
+SHUFFLE	COPY_MAP_DATA	189532000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	948341
+SHUFFLE	COMPRESS_BYTE_COUNT	948345
+SHUFFLE	COPY_MAP_DATA	3240013000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	895885
+SHUFFLE	COMPRESS_BYTE_COUNT	895889
+SHUFFLE	COPY_MAP_DATA	97405000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	971825
+SHUFFLE	COMPRESS_BYTE_COUNT	971829
+SHUFFLE	COPY_MAP_DATA	19225000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	945541
+SHUFFLE	COMPRESS_BYTE_COUNT	945545
+SHUFFLE	COPY_MAP_DATA	26303000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	887402
+SHUFFLE	COMPRESS_BYTE_COUNT	887406
+SHUFFLE	COPY_MAP_DATA	22126000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	889328
+SHUFFLE	COMPRESS_BYTE_COUNT	889332
+SHUFFLE	COPY_MAP_DATA	21613000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	912904
+SHUFFLE	COMPRESS_BYTE_COUNT	912908
+SHUFFLE	COPY_MAP_DATA	23518000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	943847
+SHUFFLE	COMPRESS_BYTE_COUNT	943851
+SHUFFLE	COPY_MAP_DATA	1201862000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	827842
+SHUFFLE	COMPRESS_BYTE_COUNT	827846
+SHUFFLE	COPY_MAP_DATA	45939000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	869916
+SHUFFLE	COMPRESS_BYTE_COUNT	869920
+SHUFFLE	COPY_MAP_DATA	60517000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	886136
+SHUFFLE	COMPRESS_BYTE_COUNT	886140
+SHUFFLE	COPY_MAP_DATA	422552000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	869277
+SHUFFLE	COMPRESS_BYTE_COUNT	869281
+SHUFFLE	COPY_MAP_DATA	41248000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	950844
+SHUFFLE	COMPRESS_BYTE_COUNT	950848
+SHUFFLE	COPY_MAP_DATA	409396000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	886345
+SHUFFLE	COMPRESS_BYTE_COUNT	886349
+SHUFFLE	COPY_MAP_DATA	44770000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	843856
+SHUFFLE	COMPRESS_BYTE_COUNT	843860
+SHUFFLE	COPY_MAP_DATA	83304000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	885364
+SHUFFLE	COMPRESS_BYTE_COUNT	885368
+SHUFFLE	COPY_MAP_DATA	10719000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	919962
+SHUFFLE	COMPRESS_BYTE_COUNT	919966
+SHUFFLE	COPY_MAP_DATA	1910768000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	840025
+SHUFFLE	COMPRESS_BYTE_COUNT	840029
+SHUFFLE	COPY_MAP_DATA	292054000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1004145
+SHUFFLE	COMPRESS_BYTE_COUNT	1004149
+SHUFFLE	COPY_MAP_DATA	5044210000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	867965
+SHUFFLE	COMPRESS_BYTE_COUNT	867969
+SHUFFLE	COPY_MAP_DATA	251699000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	812554
+SHUFFLE	COMPRESS_BYTE_COUNT	812558
+SHUFFLE	COPY_MAP_DATA	77296000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	836909
+SHUFFLE	COMPRESS_BYTE_COUNT	836913
+SHUFFLE	COPY_MAP_DATA	16207000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	969172
+SHUFFLE	COMPRESS_BYTE_COUNT	969176
+SHUFFLE	COPY_MAP_DATA	18246000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	913693
+SHUFFLE	COMPRESS_BYTE_COUNT	913697
+SHUFFLE	COPY_MAP_DATA	72176000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	819832
+SHUFFLE	COMPRESS_BYTE_COUNT	819836
+SHUFFLE	COPY_MAP_DATA	20441000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	765080
+SHUFFLE	COMPRESS_BYTE_COUNT	765084
+SHUFFLE	COPY_MAP_DATA	9519000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	861631
+SHUFFLE	COMPRESS_BYTE_COUNT	861635
+SHUFFLE	COPY_MAP_DATA	153872000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	823689
+SHUFFLE	COMPRESS_BYTE_COUNT	823693
+SHUFFLE	COPY_MAP_DATA	18673000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	880495
+SHUFFLE	COMPRESS_BYTE_COUNT	880499
+SHUFFLE	COPY_MAP_DATA	988572000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1035065
+SHUFFLE	COMPRESS_BYTE_COUNT	1035069
+SHUFFLE	COPY_MAP_DATA	216201000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	938407
+SHUFFLE	COMPRESS_BYTE_COUNT	938411
+SHUFFLE	COPY_MAP_DATA	45649000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	932603
+SHUFFLE	COMPRESS_BYTE_COUNT	932607
+SHUFFLE	COPY_MAP_DATA	459165000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	874508
+SHUFFLE	COMPRESS_BYTE_COUNT	874512
+SHUFFLE	COPY_MAP_DATA	19012000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	835760
+SHUFFLE	COMPRESS_BYTE_COUNT	835764
+SHUFFLE	COPY_MAP_DATA	864201000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	838007
+SHUFFLE	COMPRESS_BYTE_COUNT	838011
+SHUFFLE	COPY_MAP_DATA	1572509000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	949863
+SHUFFLE	COMPRESS_BYTE_COUNT	949867
+SHUFFLE	COPY_MAP_DATA	654324000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	793035
+SHUFFLE	COMPRESS_BYTE_COUNT	793039
+SHUFFLE	COPY_MAP_DATA	19870000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	845970
+SHUFFLE	COMPRESS_BYTE_COUNT	845974
+SHUFFLE	COPY_MAP_DATA	14432000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	874118
+SHUFFLE	COMPRESS_BYTE_COUNT	874122
+SHUFFLE	COPY_MAP_DATA	18065000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	865535
+SHUFFLE	COMPRESS_BYTE_COUNT	865539
+SHUFFLE	COPY_MAP_DATA	1193108000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	789515
+SHUFFLE	COMPRESS_BYTE_COUNT	789519
+SHUFFLE	COPY_MAP_DATA	204922000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	989345
+SHUFFLE	COMPRESS_BYTE_COUNT	989349
+SHUFFLE	COPY_MAP_DATA	262551000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	874921
+SHUFFLE	COMPRESS_BYTE_COUNT	874925
+SHUFFLE	COPY_MAP_DATA	28681000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	878388
+SHUFFLE	COMPRESS_BYTE_COUNT	878392
+SHUFFLE	COPY_MAP_DATA	46953000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	820243
+SHUFFLE	COMPRESS_BYTE_COUNT	820247
+SHUFFLE	COPY_MAP_DATA	12456000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	823398
+SHUFFLE	COMPRESS_BYTE_COUNT	823402
+SHUFFLE	COPY_MAP_DATA	9139000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	813743
+SHUFFLE	COMPRESS_BYTE_COUNT	813747
+SHUFFLE	COPY_MAP_DATA	143053000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1011806
+SHUFFLE	COMPRESS_BYTE_COUNT	1011810
+SHUFFLE	COPY_MAP_DATA	17158000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	867947
+SHUFFLE	COMPRESS_BYTE_COUNT	867951
+SHUFFLE	COPY_MAP_DATA	10090000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	833898
+SHUFFLE	COMPRESS_BYTE_COUNT	833902
+SHUFFLE	COPY_MAP_DATA	14967000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	848793
+SHUFFLE	COMPRESS_BYTE_COUNT	848797
+SHUFFLE	COPY_MAP_DATA	19464000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	845656
+SHUFFLE	COMPRESS_BYTE_COUNT	845660
+SHUFFLE	COPY_MAP_DATA	25747000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	784689
+SHUFFLE	COMPRESS_BYTE_COUNT	784693
+SHUFFLE	COPY_MAP_DATA	37482000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	786382
+SHUFFLE	COMPRESS_BYTE_COUNT	786386
+SHUFFLE	COPY_MAP_DATA	508177000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	837926
+SHUFFLE	COMPRESS_BYTE_COUNT	837930
+SHUFFLE	COPY_MAP_DATA	73966000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	822140
+SHUFFLE	COMPRESS_BYTE_COUNT	822144
+SHUFFLE	COPY_MAP_DATA	177480000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	808637
+SHUFFLE	COMPRESS_BYTE_COUNT	808641
+SHUFFLE	COPY_MAP_DATA	115843000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	848219
+SHUFFLE	COMPRESS_BYTE_COUNT	848223
+SHUFFLE	COPY_MAP_DATA	92135000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	797766
+SHUFFLE	COMPRESS_BYTE_COUNT	797770
+SHUFFLE	COPY_MAP_DATA	2927102000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	836565
+SHUFFLE	COMPRESS_BYTE_COUNT	836569
+SHUFFLE	COPY_MAP_DATA	95703000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1137982
+SHUFFLE	COMPRESS_BYTE_COUNT	1137986
+SHUFFLE	COPY_MAP_DATA	180110000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1063899
+SHUFFLE	COMPRESS_BYTE_COUNT	1063903
+SHUFFLE	COPY_MAP_DATA	19315000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1008683
+SHUFFLE	COMPRESS_BYTE_COUNT	1008687
+SHUFFLE	COPY_MAP_DATA	121054000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	813446
+SHUFFLE	COMPRESS_BYTE_COUNT	813450
+SHUFFLE	COPY_MAP_DATA	229479000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	843927
+SHUFFLE	COMPRESS_BYTE_COUNT	843931
+SHUFFLE	COPY_MAP_DATA	25779000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	764079
+SHUFFLE	COMPRESS_BYTE_COUNT	764083
+SHUFFLE	COPY_MAP_DATA	196626000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	881019
+SHUFFLE	COMPRESS_BYTE_COUNT	881023
+SHUFFLE	COPY_MAP_DATA	293189000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	846040
+SHUFFLE	COMPRESS_BYTE_COUNT	846044
+SHUFFLE	COPY_MAP_DATA	737190000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	850905
+SHUFFLE	COMPRESS_BYTE_COUNT	850909
+SHUFFLE	COPY_MAP_DATA	16208000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	803292
+SHUFFLE	COMPRESS_BYTE_COUNT	803296
+SHUFFLE	COPY_MAP_DATA	155890000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	786979
+SHUFFLE	COMPRESS_BYTE_COUNT	786983
+SHUFFLE	COPY_MAP_DATA	10760000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	813431
+SHUFFLE	COMPRESS_BYTE_COUNT	813435
+SHUFFLE	COPY_MAP_DATA	50522000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	894110
+SHUFFLE	COMPRESS_BYTE_COUNT	894114
+SHUFFLE	COPY_MAP_DATA	16798000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	876921
+SHUFFLE	COMPRESS_BYTE_COUNT	876925
+SHUFFLE	COPY_MAP_DATA	1369082000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	837060
+SHUFFLE	COMPRESS_BYTE_COUNT	837064
+SHUFFLE	COPY_MAP_DATA	50665000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	802526
+SHUFFLE	COMPRESS_BYTE_COUNT	802530
+SHUFFLE	COPY_MAP_DATA	25076000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	827215
+SHUFFLE	COMPRESS_BYTE_COUNT	827219
+SHUFFLE	COPY_MAP_DATA	17774000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	833901
+SHUFFLE	COMPRESS_BYTE_COUNT	833905
+SHUFFLE	COPY_MAP_DATA	157912000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	975530
+SHUFFLE	COMPRESS_BYTE_COUNT	975534
+SHUFFLE	COPY_MAP_DATA	6114325000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	819225
+SHUFFLE	COMPRESS_BYTE_COUNT	819229
+SHUFFLE	COPY_MAP_DATA	1870433000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	792123
+SHUFFLE	COMPRESS_BYTE_COUNT	792127
+SHUFFLE	COPY_MAP_DATA	14559000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	912037
+SHUFFLE	COMPRESS_BYTE_COUNT	912041
+SHUFFLE	COPY_MAP_DATA	425042000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	781882
+SHUFFLE	COMPRESS_BYTE_COUNT	781886
+SHUFFLE	COPY_MAP_DATA	574678000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	923951
+SHUFFLE	COMPRESS_BYTE_COUNT	923955
+SHUFFLE	COPY_MAP_DATA	96694000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	864064
+SHUFFLE	COMPRESS_BYTE_COUNT	864068
+SHUFFLE	COPY_MAP_DATA	176249000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	735719
+SHUFFLE	COMPRESS_BYTE_COUNT	735723
+SHUFFLE	COPY_MAP_DATA	38370000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	835405
+SHUFFLE	COMPRESS_BYTE_COUNT	835409
+SHUFFLE	COPY_MAP_DATA	19742000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	743495
+SHUFFLE	COMPRESS_BYTE_COUNT	743499
+SHUFFLE	COPY_MAP_DATA	133550000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	993001
+SHUFFLE	COMPRESS_BYTE_COUNT	993005
+SHUFFLE	COPY_MAP_DATA	6424702000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	996144
+SHUFFLE	COMPRESS_BYTE_COUNT	996148
+SHUFFLE	COPY_MAP_DATA	116170000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	809260
+SHUFFLE	COMPRESS_BYTE_COUNT	809264
+SHUFFLE	COPY_MAP_DATA	16213000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	777275
+SHUFFLE	COMPRESS_BYTE_COUNT	777279
+SHUFFLE	COPY_MAP_DATA	2708979000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	999513
+SHUFFLE	COMPRESS_BYTE_COUNT	999517
+SHUFFLE	COPY_MAP_DATA	449998000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	697222
+SHUFFLE	COMPRESS_BYTE_COUNT	697226
+SHUFFLE	COPY_MAP_DATA	16169000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1084094
+SHUFFLE	COMPRESS_BYTE_COUNT	1084098
+SHUFFLE	COPY_MAP_DATA	102220000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	836374
+SHUFFLE	COMPRESS_BYTE_COUNT	836378
+SHUFFLE	COPY_MAP_DATA	295166000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	735719
+SHUFFLE	COMPRESS_BYTE_COUNT	735723
+SHUFFLE	COPY_MAP_DATA	404604000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	740228
+SHUFFLE	COMPRESS_BYTE_COUNT	740232
+SHUFFLE	COPY_MAP_DATA	77704000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	865736
+SHUFFLE	COMPRESS_BYTE_COUNT	865740
+SHUFFLE	COPY_MAP_DATA	34915000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	870414
+SHUFFLE	COMPRESS_BYTE_COUNT	870418
+SHUFFLE	COPY_MAP_DATA	16625000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	870704
+SHUFFLE	COMPRESS_BYTE_COUNT	870708
+SHUFFLE	COPY_MAP_DATA	119880000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	942867
+SHUFFLE	COMPRESS_BYTE_COUNT	942871
+SHUFFLE	COPY_MAP_DATA	16342000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	827711
+SHUFFLE	COMPRESS_BYTE_COUNT	827715
+SHUFFLE	COPY_MAP_DATA	2215884000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	776737
+SHUFFLE	COMPRESS_BYTE_COUNT	776741
+SHUFFLE	COPY_MAP_DATA	468069000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	992701
+SHUFFLE	COMPRESS_BYTE_COUNT	992705
+SHUFFLE	COPY_MAP_DATA	86941000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	819854
+SHUFFLE	COMPRESS_BYTE_COUNT	819858
+SHUFFLE	COPY_MAP_DATA	7573000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	839859
+SHUFFLE	COMPRESS_BYTE_COUNT	839863
+SHUFFLE	COPY_MAP_DATA	15502000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	929754
+SHUFFLE	COMPRESS_BYTE_COUNT	929758
+SHUFFLE	COPY_MAP_DATA	24751000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	761936
+SHUFFLE	COMPRESS_BYTE_COUNT	761940
+SHUFFLE	COPY_MAP_DATA	40286000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	781840
+SHUFFLE	COMPRESS_BYTE_COUNT	781844
+SHUFFLE	COPY_MAP_DATA	14870000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1074931
+SHUFFLE	COMPRESS_BYTE_COUNT	1074935
+SHUFFLE	COPY_MAP_DATA	35291000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	908172
+SHUFFLE	COMPRESS_BYTE_COUNT	908176
+SHUFFLE	COPY_MAP_DATA	14637000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	852852
+SHUFFLE	COMPRESS_BYTE_COUNT	852856
+SHUFFLE	COPY_MAP_DATA	14384000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	834090
+SHUFFLE	COMPRESS_BYTE_COUNT	834094
+SHUFFLE	COPY_MAP_DATA	32450000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	834155
+SHUFFLE	COMPRESS_BYTE_COUNT	834159
+SHUFFLE	COPY_MAP_DATA	13939000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	866521
+SHUFFLE	COMPRESS_BYTE_COUNT	866525
+SHUFFLE	COPY_MAP_DATA	26721000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	648088
+SHUFFLE	COMPRESS_BYTE_COUNT	648092
+SHUFFLE	COPY_MAP_DATA	14374000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	922316
+SHUFFLE	COMPRESS_BYTE_COUNT	922320
+SHUFFLE	COPY_MAP_DATA	17167000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1001662
+SHUFFLE	COMPRESS_BYTE_COUNT	1001666
+SHUFFLE	COPY_MAP_DATA	109841000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	809954
+SHUFFLE	COMPRESS_BYTE_COUNT	809958
+SHUFFLE	COPY_MAP_DATA	102814000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	741703
+SHUFFLE	COMPRESS_BYTE_COUNT	741707
+SHUFFLE	COPY_MAP_DATA	22816000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	977669
+SHUFFLE	COMPRESS_BYTE_COUNT	977673
+SHUFFLE	COPY_MAP_DATA	21587000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	926750
+SHUFFLE	COMPRESS_BYTE_COUNT	926754
+SHUFFLE	COPY_MAP_DATA	28686000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	758679
+SHUFFLE	COMPRESS_BYTE_COUNT	758683
+SHUFFLE	COPY_MAP_DATA	31930000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	114374854000
+MERGE	READ_WRITE	114092853000
+MERGE	READ_WRITE_COUNT	2
+MERGE	COMBINE	0
+MERGE	WRITE	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	17906035000
+SORT	READ_WRITE	17721051000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	201831168
+REDUCE	SETUP	440000
+REDUCE	SETUP_MEM	201831168
+REDUCE	CLEANUP	37000
+REDUCE	CLEANUP_MEM	200350608
+REDUCE	TOTAL_RUN	115384022000
+REDUCE	READ	10354094000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	98638777000
+REDUCE	WRITE	33299525000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	76795709
+REDUCE	VALUE_BYTE_COUNT	68951821
+REDUCE	REDUCE_MEM	200350608
+REDUCE	WRITE	11808000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	659550982719
@@ -0,0 +1,1333 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1860509
+SHUFFLE	COMPRESS_BYTE_COUNT	1860513
+SHUFFLE	COPY_MAP_DATA	126302000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1961290
+SHUFFLE	COMPRESS_BYTE_COUNT	1961294
+SHUFFLE	COPY_MAP_DATA	123358000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2010192
+SHUFFLE	COMPRESS_BYTE_COUNT	2010196
+SHUFFLE	COPY_MAP_DATA	71662000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1929724
+SHUFFLE	COMPRESS_BYTE_COUNT	1929728
+SHUFFLE	COPY_MAP_DATA	28017000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1861818
+SHUFFLE	COMPRESS_BYTE_COUNT	1861822
+SHUFFLE	COPY_MAP_DATA	73280000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1730653
+SHUFFLE	COMPRESS_BYTE_COUNT	1730657
+SHUFFLE	COPY_MAP_DATA	40646000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1825862
+SHUFFLE	COMPRESS_BYTE_COUNT	1825866
+SHUFFLE	COPY_MAP_DATA	160968000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1648402
+SHUFFLE	COMPRESS_BYTE_COUNT	1648406
+SHUFFLE	COPY_MAP_DATA	39712000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1919678
+SHUFFLE	COMPRESS_BYTE_COUNT	1919682
+SHUFFLE	COPY_MAP_DATA	168335000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1853528
+SHUFFLE	COMPRESS_BYTE_COUNT	1853532
+SHUFFLE	COPY_MAP_DATA	2837609000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1930520
+SHUFFLE	COMPRESS_BYTE_COUNT	1930524
+SHUFFLE	COPY_MAP_DATA	41826000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1946105
+SHUFFLE	COMPRESS_BYTE_COUNT	1946109
+SHUFFLE	COPY_MAP_DATA	109926000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1844958
+SHUFFLE	COMPRESS_BYTE_COUNT	1844962
+SHUFFLE	COPY_MAP_DATA	28080000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1774603
+SHUFFLE	COMPRESS_BYTE_COUNT	1774607
+SHUFFLE	COPY_MAP_DATA	98264000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1774102
+SHUFFLE	COMPRESS_BYTE_COUNT	1774106
+SHUFFLE	COPY_MAP_DATA	86437000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1939671
+SHUFFLE	COMPRESS_BYTE_COUNT	1939675
+SHUFFLE	COPY_MAP_DATA	59896000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2083432
+SHUFFLE	COMPRESS_BYTE_COUNT	2083436
+SHUFFLE	COPY_MAP_DATA	106160000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1756827
+SHUFFLE	COMPRESS_BYTE_COUNT	1756831
+SHUFFLE	COPY_MAP_DATA	69942000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1884314
+SHUFFLE	COMPRESS_BYTE_COUNT	1884318
+SHUFFLE	COPY_MAP_DATA	225210000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1823156
+SHUFFLE	COMPRESS_BYTE_COUNT	1823160
+SHUFFLE	COPY_MAP_DATA	49804000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1888356
+SHUFFLE	COMPRESS_BYTE_COUNT	1888360
+SHUFFLE	COPY_MAP_DATA	67987000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1953387
+SHUFFLE	COMPRESS_BYTE_COUNT	1953391
+SHUFFLE	COPY_MAP_DATA	165519000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2016359
+SHUFFLE	COMPRESS_BYTE_COUNT	2016363
+SHUFFLE	COPY_MAP_DATA	28227000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1990937
+SHUFFLE	COMPRESS_BYTE_COUNT	1990941
+SHUFFLE	COPY_MAP_DATA	71946000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1937595
+SHUFFLE	COMPRESS_BYTE_COUNT	1937599
+SHUFFLE	COPY_MAP_DATA	21193000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1911858
+SHUFFLE	COMPRESS_BYTE_COUNT	1911862
+SHUFFLE	COPY_MAP_DATA	46048000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1956173
+SHUFFLE	COMPRESS_BYTE_COUNT	1956177
+SHUFFLE	COPY_MAP_DATA	2380564000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1903880
+SHUFFLE	COMPRESS_BYTE_COUNT	1903884
+SHUFFLE	COPY_MAP_DATA	337830000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2011371
+SHUFFLE	COMPRESS_BYTE_COUNT	2011375
+SHUFFLE	COPY_MAP_DATA	33022000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1918254
+SHUFFLE	COMPRESS_BYTE_COUNT	1918258
+SHUFFLE	COPY_MAP_DATA	49797000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1808060
+SHUFFLE	COMPRESS_BYTE_COUNT	1808064
+SHUFFLE	COPY_MAP_DATA	221400000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1905907
+SHUFFLE	COMPRESS_BYTE_COUNT	1905911
+SHUFFLE	COPY_MAP_DATA	7261869000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1773150
+SHUFFLE	COMPRESS_BYTE_COUNT	1773154
+SHUFFLE	COPY_MAP_DATA	1322468000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1758444
+SHUFFLE	COMPRESS_BYTE_COUNT	1758448
+SHUFFLE	COPY_MAP_DATA	33162000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1851571
+SHUFFLE	COMPRESS_BYTE_COUNT	1851575
+SHUFFLE	COPY_MAP_DATA	3243060000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1953289
+SHUFFLE	COMPRESS_BYTE_COUNT	1953293
+SHUFFLE	COPY_MAP_DATA	25862000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1580091
+SHUFFLE	COMPRESS_BYTE_COUNT	1580095
+SHUFFLE	COPY_MAP_DATA	25968000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1687220
+SHUFFLE	COMPRESS_BYTE_COUNT	1687224
+SHUFFLE	COPY_MAP_DATA	14690000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1726399
+SHUFFLE	COMPRESS_BYTE_COUNT	1726403
+SHUFFLE	COPY_MAP_DATA	434439000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1826434
+SHUFFLE	COMPRESS_BYTE_COUNT	1826438
+SHUFFLE	COPY_MAP_DATA	19242000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1822879
+SHUFFLE	COMPRESS_BYTE_COUNT	1822883
+SHUFFLE	COPY_MAP_DATA	18655000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1873935
+SHUFFLE	COMPRESS_BYTE_COUNT	1873939
+SHUFFLE	COPY_MAP_DATA	231126000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1905691
+SHUFFLE	COMPRESS_BYTE_COUNT	1905695
+SHUFFLE	COPY_MAP_DATA	224491000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1729000
+SHUFFLE	COMPRESS_BYTE_COUNT	1729004
+SHUFFLE	COPY_MAP_DATA	99113000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1602072
+SHUFFLE	COMPRESS_BYTE_COUNT	1602076
+SHUFFLE	COPY_MAP_DATA	156202000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1690548
+SHUFFLE	COMPRESS_BYTE_COUNT	1690552
+SHUFFLE	COPY_MAP_DATA	34918000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1700135
+SHUFFLE	COMPRESS_BYTE_COUNT	1700139
+SHUFFLE	COPY_MAP_DATA	68563000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1764277
+SHUFFLE	COMPRESS_BYTE_COUNT	1764281
+SHUFFLE	COPY_MAP_DATA	988761000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1860214
+SHUFFLE	COMPRESS_BYTE_COUNT	1860218
+SHUFFLE	COPY_MAP_DATA	279334000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1844358
+SHUFFLE	COMPRESS_BYTE_COUNT	1844362
+SHUFFLE	COPY_MAP_DATA	26795000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1620421
+SHUFFLE	COMPRESS_BYTE_COUNT	1620425
+SHUFFLE	COPY_MAP_DATA	23482000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1721781
+SHUFFLE	COMPRESS_BYTE_COUNT	1721785
+SHUFFLE	COPY_MAP_DATA	64080000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1554222
+SHUFFLE	COMPRESS_BYTE_COUNT	1554226
+SHUFFLE	COPY_MAP_DATA	111695000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1572332
+SHUFFLE	COMPRESS_BYTE_COUNT	1572336
+SHUFFLE	COPY_MAP_DATA	862509000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1611441
+SHUFFLE	COMPRESS_BYTE_COUNT	1611445
+SHUFFLE	COPY_MAP_DATA	89120000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1941171
+SHUFFLE	COMPRESS_BYTE_COUNT	1941175
+SHUFFLE	COPY_MAP_DATA	26820000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1810321
+SHUFFLE	COMPRESS_BYTE_COUNT	1810325
+SHUFFLE	COPY_MAP_DATA	80968000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1772036
+SHUFFLE	COMPRESS_BYTE_COUNT	1772040
+SHUFFLE	COPY_MAP_DATA	30657000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1711079
+SHUFFLE	COMPRESS_BYTE_COUNT	1711083
+SHUFFLE	COPY_MAP_DATA	873660000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1703047
+SHUFFLE	COMPRESS_BYTE_COUNT	1703051
+SHUFFLE	COPY_MAP_DATA	168401000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1526156
+SHUFFLE	COMPRESS_BYTE_COUNT	1526160
+SHUFFLE	COPY_MAP_DATA	375849000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1851318
+SHUFFLE	COMPRESS_BYTE_COUNT	1851322
+SHUFFLE	COPY_MAP_DATA	455984000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1558871
+SHUFFLE	COMPRESS_BYTE_COUNT	1558875
+SHUFFLE	COPY_MAP_DATA	865506000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1573610
+SHUFFLE	COMPRESS_BYTE_COUNT	1573614
+SHUFFLE	COPY_MAP_DATA	391950000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1586384
+SHUFFLE	COMPRESS_BYTE_COUNT	1586388
+SHUFFLE	COPY_MAP_DATA	201883000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1656011
+SHUFFLE	COMPRESS_BYTE_COUNT	1656015
+SHUFFLE	COPY_MAP_DATA	497760000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1568049
+SHUFFLE	COMPRESS_BYTE_COUNT	1568053
+SHUFFLE	COPY_MAP_DATA	20248000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1576301
+SHUFFLE	COMPRESS_BYTE_COUNT	1576305
+SHUFFLE	COPY_MAP_DATA	431471000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1620244
+SHUFFLE	COMPRESS_BYTE_COUNT	1620248
+SHUFFLE	COPY_MAP_DATA	13328901000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1496077
+SHUFFLE	COMPRESS_BYTE_COUNT	1496081
+SHUFFLE	COPY_MAP_DATA	159812000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1546064
+SHUFFLE	COMPRESS_BYTE_COUNT	1546068
+SHUFFLE	COPY_MAP_DATA	95428000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1870939
+SHUFFLE	COMPRESS_BYTE_COUNT	1870943
+SHUFFLE	COPY_MAP_DATA	439982000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1786487
+SHUFFLE	COMPRESS_BYTE_COUNT	1786491
+SHUFFLE	COPY_MAP_DATA	181535000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1569224
+SHUFFLE	COMPRESS_BYTE_COUNT	1569228
+SHUFFLE	COPY_MAP_DATA	355807000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1588729
+SHUFFLE	COMPRESS_BYTE_COUNT	1588733
+SHUFFLE	COPY_MAP_DATA	136263000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1670667
+SHUFFLE	COMPRESS_BYTE_COUNT	1670671
+SHUFFLE	COPY_MAP_DATA	185000000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1584975
+SHUFFLE	COMPRESS_BYTE_COUNT	1584979
+SHUFFLE	COPY_MAP_DATA	250607000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1760318
+SHUFFLE	COMPRESS_BYTE_COUNT	1760322
+SHUFFLE	COPY_MAP_DATA	111129000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1443392
+SHUFFLE	COMPRESS_BYTE_COUNT	1443396
+SHUFFLE	COPY_MAP_DATA	550018000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1444324
+SHUFFLE	COMPRESS_BYTE_COUNT	1444328
+SHUFFLE	COPY_MAP_DATA	175844000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1687814
+SHUFFLE	COMPRESS_BYTE_COUNT	1687818
+SHUFFLE	COPY_MAP_DATA	646896000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1698404
+SHUFFLE	COMPRESS_BYTE_COUNT	1698408
+SHUFFLE	COPY_MAP_DATA	328950000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1615888
+SHUFFLE	COMPRESS_BYTE_COUNT	1615892
+SHUFFLE	COPY_MAP_DATA	2153520000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1627445
+SHUFFLE	COMPRESS_BYTE_COUNT	1627449
+SHUFFLE	COPY_MAP_DATA	465125000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1689008
+SHUFFLE	COMPRESS_BYTE_COUNT	1689012
+SHUFFLE	COPY_MAP_DATA	42845000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1577411
+SHUFFLE	COMPRESS_BYTE_COUNT	1577415
+SHUFFLE	COPY_MAP_DATA	93862000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1474082
+SHUFFLE	COMPRESS_BYTE_COUNT	1474086
+SHUFFLE	COPY_MAP_DATA	23381000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1815627
+SHUFFLE	COMPRESS_BYTE_COUNT	1815631
+SHUFFLE	COPY_MAP_DATA	26701000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1720182
+SHUFFLE	COMPRESS_BYTE_COUNT	1720186
+SHUFFLE	COPY_MAP_DATA	23857000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	794355
+SHUFFLE	COMPRESS_BYTE_COUNT	794359
+SHUFFLE	COPY_MAP_DATA	13886000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1735917
+SHUFFLE	COMPRESS_BYTE_COUNT	1735921
+SHUFFLE	COPY_MAP_DATA	51026000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	902422
+SHUFFLE	COMPRESS_BYTE_COUNT	902426
+SHUFFLE	COPY_MAP_DATA	16408000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1569008
+SHUFFLE	COMPRESS_BYTE_COUNT	1569012
+SHUFFLE	COPY_MAP_DATA	4989846000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1514070
+SHUFFLE	COMPRESS_BYTE_COUNT	1514074
+SHUFFLE	COPY_MAP_DATA	122556000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	828233
+SHUFFLE	COMPRESS_BYTE_COUNT	828237
+SHUFFLE	COPY_MAP_DATA	88912000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	854049
+SHUFFLE	COMPRESS_BYTE_COUNT	854053
+SHUFFLE	COPY_MAP_DATA	17081000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1523257
+SHUFFLE	COMPRESS_BYTE_COUNT	1523261
+SHUFFLE	COPY_MAP_DATA	303290000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	993419
+SHUFFLE	COMPRESS_BYTE_COUNT	993423
+SHUFFLE	COPY_MAP_DATA	61671000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1795765
+SHUFFLE	COMPRESS_BYTE_COUNT	1795769
+SHUFFLE	COPY_MAP_DATA	27581000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	997068
+SHUFFLE	COMPRESS_BYTE_COUNT	997072
+SHUFFLE	COPY_MAP_DATA	14936000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1637388
+SHUFFLE	COMPRESS_BYTE_COUNT	1637392
+SHUFFLE	COPY_MAP_DATA	72670000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1413887
+SHUFFLE	COMPRESS_BYTE_COUNT	1413891
+SHUFFLE	COPY_MAP_DATA	21113000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	989578
+SHUFFLE	COMPRESS_BYTE_COUNT	989582
+SHUFFLE	COPY_MAP_DATA	48955000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1698556
+SHUFFLE	COMPRESS_BYTE_COUNT	1698560
+SHUFFLE	COPY_MAP_DATA	21300000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1617422
+SHUFFLE	COMPRESS_BYTE_COUNT	1617426
+SHUFFLE	COPY_MAP_DATA	665684000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1736039
+SHUFFLE	COMPRESS_BYTE_COUNT	1736043
+SHUFFLE	COPY_MAP_DATA	1375762000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1546368
+SHUFFLE	COMPRESS_BYTE_COUNT	1546372
+SHUFFLE	COPY_MAP_DATA	46323000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1567734
+SHUFFLE	COMPRESS_BYTE_COUNT	1567738
+SHUFFLE	COPY_MAP_DATA	128675000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1035812
+SHUFFLE	COMPRESS_BYTE_COUNT	1035816
+SHUFFLE	COPY_MAP_DATA	317956000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	949912
+SHUFFLE	COMPRESS_BYTE_COUNT	949916
+SHUFFLE	COPY_MAP_DATA	105582000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1866568
+SHUFFLE	COMPRESS_BYTE_COUNT	1866572
+SHUFFLE	COPY_MAP_DATA	97656000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	987685
+SHUFFLE	COMPRESS_BYTE_COUNT	987689
+SHUFFLE	COPY_MAP_DATA	19535000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1456676
+SHUFFLE	COMPRESS_BYTE_COUNT	1456680
+SHUFFLE	COPY_MAP_DATA	15668000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	949951
+SHUFFLE	COMPRESS_BYTE_COUNT	949955
+SHUFFLE	COPY_MAP_DATA	15566000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1590882
+SHUFFLE	COMPRESS_BYTE_COUNT	1590886
+SHUFFLE	COPY_MAP_DATA	79287000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1127392
+SHUFFLE	COMPRESS_BYTE_COUNT	1127396
+SHUFFLE	COPY_MAP_DATA	28532000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1019293
+SHUFFLE	COMPRESS_BYTE_COUNT	1019297
+SHUFFLE	COPY_MAP_DATA	15791000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	925480
+SHUFFLE	COMPRESS_BYTE_COUNT	925484
+SHUFFLE	COPY_MAP_DATA	114527000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1719182
+SHUFFLE	COMPRESS_BYTE_COUNT	1719186
+SHUFFLE	COPY_MAP_DATA	251578000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1886245
+SHUFFLE	COMPRESS_BYTE_COUNT	1886249
+SHUFFLE	COPY_MAP_DATA	960222000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	960151
+SHUFFLE	COMPRESS_BYTE_COUNT	960155
+SHUFFLE	COPY_MAP_DATA	1894714000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	967703
+SHUFFLE	COMPRESS_BYTE_COUNT	967707
+SHUFFLE	COPY_MAP_DATA	243105000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	945801
+SHUFFLE	COMPRESS_BYTE_COUNT	945805
+SHUFFLE	COPY_MAP_DATA	199644000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1010916
+SHUFFLE	COMPRESS_BYTE_COUNT	1010920
+SHUFFLE	COPY_MAP_DATA	60908000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1023236
+SHUFFLE	COMPRESS_BYTE_COUNT	1023240
+SHUFFLE	COPY_MAP_DATA	131484000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	829739
+SHUFFLE	COMPRESS_BYTE_COUNT	829743
+SHUFFLE	COPY_MAP_DATA	12985000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	887850
+SHUFFLE	COMPRESS_BYTE_COUNT	887854
+SHUFFLE	COPY_MAP_DATA	8516000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	959795
+SHUFFLE	COMPRESS_BYTE_COUNT	959799
+SHUFFLE	COPY_MAP_DATA	73968000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	968763
+SHUFFLE	COMPRESS_BYTE_COUNT	968767
+SHUFFLE	COPY_MAP_DATA	56241000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	932861
+SHUFFLE	COMPRESS_BYTE_COUNT	932865
+SHUFFLE	COPY_MAP_DATA	26631000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	954904
+SHUFFLE	COMPRESS_BYTE_COUNT	954908
+SHUFFLE	COPY_MAP_DATA	218826000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	963811
+SHUFFLE	COMPRESS_BYTE_COUNT	963815
+SHUFFLE	COPY_MAP_DATA	15193000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	947543
+SHUFFLE	COMPRESS_BYTE_COUNT	947547
+SHUFFLE	COPY_MAP_DATA	111754000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	960963
+SHUFFLE	COMPRESS_BYTE_COUNT	960967
+SHUFFLE	COPY_MAP_DATA	462539000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	965680
+SHUFFLE	COMPRESS_BYTE_COUNT	965684
+SHUFFLE	COPY_MAP_DATA	15459000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	875913
+SHUFFLE	COMPRESS_BYTE_COUNT	875917
+SHUFFLE	COPY_MAP_DATA	1219408000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	979772
+SHUFFLE	COMPRESS_BYTE_COUNT	979776
+SHUFFLE	COPY_MAP_DATA	1125971000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	959885
+SHUFFLE	COMPRESS_BYTE_COUNT	959889
+SHUFFLE	COPY_MAP_DATA	3518239000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1549671
+SHUFFLE	COMPRESS_BYTE_COUNT	1549675
+SHUFFLE	COPY_MAP_DATA	8554346000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	946861
+SHUFFLE	COMPRESS_BYTE_COUNT	946865
+SHUFFLE	COPY_MAP_DATA	28031000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	985956
+SHUFFLE	COMPRESS_BYTE_COUNT	985960
+SHUFFLE	COPY_MAP_DATA	113490000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	951460
+SHUFFLE	COMPRESS_BYTE_COUNT	951464
+SHUFFLE	COPY_MAP_DATA	170951000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1072518
+SHUFFLE	COMPRESS_BYTE_COUNT	1072522
+SHUFFLE	COPY_MAP_DATA	20411000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	968160
+SHUFFLE	COMPRESS_BYTE_COUNT	968164
+SHUFFLE	COPY_MAP_DATA	554288000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	959901
+SHUFFLE	COMPRESS_BYTE_COUNT	959905
+SHUFFLE	COPY_MAP_DATA	13505000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	958366
+SHUFFLE	COMPRESS_BYTE_COUNT	958370
+SHUFFLE	COPY_MAP_DATA	687604000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	961305
+SHUFFLE	COMPRESS_BYTE_COUNT	961309
+SHUFFLE	COPY_MAP_DATA	26287000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	973561
+SHUFFLE	COMPRESS_BYTE_COUNT	973565
+SHUFFLE	COPY_MAP_DATA	205237000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	918959
+SHUFFLE	COMPRESS_BYTE_COUNT	918963
+SHUFFLE	COPY_MAP_DATA	199127000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1056469
+SHUFFLE	COMPRESS_BYTE_COUNT	1056473
+SHUFFLE	COPY_MAP_DATA	26010000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	983661
+SHUFFLE	COMPRESS_BYTE_COUNT	983665
+SHUFFLE	COPY_MAP_DATA	18566000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	947710
+SHUFFLE	COMPRESS_BYTE_COUNT	947714
+SHUFFLE	COPY_MAP_DATA	24396000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	982614
+SHUFFLE	COMPRESS_BYTE_COUNT	982618
+SHUFFLE	COPY_MAP_DATA	15716000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	890160
+SHUFFLE	COMPRESS_BYTE_COUNT	890164
+SHUFFLE	COPY_MAP_DATA	14217000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	891601
+SHUFFLE	COMPRESS_BYTE_COUNT	891605
+SHUFFLE	COPY_MAP_DATA	64418000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	987914
+SHUFFLE	COMPRESS_BYTE_COUNT	987918
+SHUFFLE	COPY_MAP_DATA	16884000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	914710
+SHUFFLE	COMPRESS_BYTE_COUNT	914714
+SHUFFLE	COPY_MAP_DATA	8864000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	956172
+SHUFFLE	COMPRESS_BYTE_COUNT	956176
+SHUFFLE	COPY_MAP_DATA	7688000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	951826
+SHUFFLE	COMPRESS_BYTE_COUNT	951830
+SHUFFLE	COPY_MAP_DATA	198355000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	938002
+SHUFFLE	COMPRESS_BYTE_COUNT	938006
+SHUFFLE	COPY_MAP_DATA	17636000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	926001
+SHUFFLE	COMPRESS_BYTE_COUNT	926005
+SHUFFLE	COPY_MAP_DATA	2483399000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	947261
+SHUFFLE	COMPRESS_BYTE_COUNT	947265
+SHUFFLE	COPY_MAP_DATA	19639000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	968626
+SHUFFLE	COMPRESS_BYTE_COUNT	968630
+SHUFFLE	COPY_MAP_DATA	23012000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	953867
+SHUFFLE	COMPRESS_BYTE_COUNT	953871
+SHUFFLE	COPY_MAP_DATA	26257000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	965377
+SHUFFLE	COMPRESS_BYTE_COUNT	965381
+SHUFFLE	COPY_MAP_DATA	20018000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	882503
+SHUFFLE	COMPRESS_BYTE_COUNT	882507
+SHUFFLE	COPY_MAP_DATA	352770000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	951951
+SHUFFLE	COMPRESS_BYTE_COUNT	951955
+SHUFFLE	COPY_MAP_DATA	52333000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	921986
+SHUFFLE	COMPRESS_BYTE_COUNT	921990
+SHUFFLE	COPY_MAP_DATA	427683000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	918303
+SHUFFLE	COMPRESS_BYTE_COUNT	918307
+SHUFFLE	COPY_MAP_DATA	120480000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	961413
+SHUFFLE	COMPRESS_BYTE_COUNT	961417
+SHUFFLE	COPY_MAP_DATA	135978000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	951455
+SHUFFLE	COMPRESS_BYTE_COUNT	951459
+SHUFFLE	COPY_MAP_DATA	330501000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	918851
+SHUFFLE	COMPRESS_BYTE_COUNT	918855
+SHUFFLE	COPY_MAP_DATA	1124290000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	927053
+SHUFFLE	COMPRESS_BYTE_COUNT	927057
+SHUFFLE	COPY_MAP_DATA	382328000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	892681
+SHUFFLE	COMPRESS_BYTE_COUNT	892685
+SHUFFLE	COPY_MAP_DATA	19113000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	914559
+SHUFFLE	COMPRESS_BYTE_COUNT	914563
+SHUFFLE	COPY_MAP_DATA	391174000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1058734
+SHUFFLE	COMPRESS_BYTE_COUNT	1058738
+SHUFFLE	COPY_MAP_DATA	21205000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	950722
+SHUFFLE	COMPRESS_BYTE_COUNT	950726
+SHUFFLE	COPY_MAP_DATA	18088000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	915381
+SHUFFLE	COMPRESS_BYTE_COUNT	915385
+SHUFFLE	COPY_MAP_DATA	5490408000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	907585
+SHUFFLE	COMPRESS_BYTE_COUNT	907589
+SHUFFLE	COPY_MAP_DATA	27587000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	967534
+SHUFFLE	COMPRESS_BYTE_COUNT	967538
+SHUFFLE	COPY_MAP_DATA	513308000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	922214
+SHUFFLE	COMPRESS_BYTE_COUNT	922218
+SHUFFLE	COPY_MAP_DATA	938718000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	891236
+SHUFFLE	COMPRESS_BYTE_COUNT	891240
+SHUFFLE	COPY_MAP_DATA	436168000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	943700
+SHUFFLE	COMPRESS_BYTE_COUNT	943704
+SHUFFLE	COPY_MAP_DATA	670960000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	865593
+SHUFFLE	COMPRESS_BYTE_COUNT	865597
+SHUFFLE	COPY_MAP_DATA	113742000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	907980
+SHUFFLE	COMPRESS_BYTE_COUNT	907984
+SHUFFLE	COPY_MAP_DATA	10008000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	903043
+SHUFFLE	COMPRESS_BYTE_COUNT	903047
+SHUFFLE	COPY_MAP_DATA	61214000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	868995
+SHUFFLE	COMPRESS_BYTE_COUNT	868999
+SHUFFLE	COPY_MAP_DATA	265782000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	888800
+SHUFFLE	COMPRESS_BYTE_COUNT	888804
+SHUFFLE	COPY_MAP_DATA	222339000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	945685
+SHUFFLE	COMPRESS_BYTE_COUNT	945689
+SHUFFLE	COPY_MAP_DATA	776498000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	869780
+SHUFFLE	COMPRESS_BYTE_COUNT	869784
+SHUFFLE	COPY_MAP_DATA	23820000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	874205
+SHUFFLE	COMPRESS_BYTE_COUNT	874209
+SHUFFLE	COPY_MAP_DATA	5949000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	854849
+SHUFFLE	COMPRESS_BYTE_COUNT	854853
+SHUFFLE	COPY_MAP_DATA	40619000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	929061
+SHUFFLE	COMPRESS_BYTE_COUNT	929065
+SHUFFLE	COPY_MAP_DATA	13865000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	861231
+SHUFFLE	COMPRESS_BYTE_COUNT	861235
+SHUFFLE	COPY_MAP_DATA	15576000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	875479
+SHUFFLE	COMPRESS_BYTE_COUNT	875483
+SHUFFLE	COPY_MAP_DATA	171642000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	877196
+SHUFFLE	COMPRESS_BYTE_COUNT	877200
+SHUFFLE	COPY_MAP_DATA	17804000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	872201
+SHUFFLE	COMPRESS_BYTE_COUNT	872205
+SHUFFLE	COPY_MAP_DATA	102822000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	854125
+SHUFFLE	COMPRESS_BYTE_COUNT	854129
+SHUFFLE	COPY_MAP_DATA	1172301000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	840665
+SHUFFLE	COMPRESS_BYTE_COUNT	840669
+SHUFFLE	COPY_MAP_DATA	1227090000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	885736
+SHUFFLE	COMPRESS_BYTE_COUNT	885740
+SHUFFLE	COPY_MAP_DATA	603628000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	874560
+SHUFFLE	COMPRESS_BYTE_COUNT	874564
+SHUFFLE	COPY_MAP_DATA	212783000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	943535
+SHUFFLE	COMPRESS_BYTE_COUNT	943539
+SHUFFLE	COPY_MAP_DATA	360748000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	859811
+SHUFFLE	COMPRESS_BYTE_COUNT	859815
+SHUFFLE	COPY_MAP_DATA	27163000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	867068
+SHUFFLE	COMPRESS_BYTE_COUNT	867072
+SHUFFLE	COPY_MAP_DATA	9463000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	847686
+SHUFFLE	COMPRESS_BYTE_COUNT	847690
+SHUFFLE	COPY_MAP_DATA	211905000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	836400
+SHUFFLE	COMPRESS_BYTE_COUNT	836404
+SHUFFLE	COPY_MAP_DATA	199229000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	885383
+SHUFFLE	COMPRESS_BYTE_COUNT	885387
+SHUFFLE	COPY_MAP_DATA	158639000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	821022
+SHUFFLE	COMPRESS_BYTE_COUNT	821026
+SHUFFLE	COPY_MAP_DATA	116442000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	762782
+SHUFFLE	COMPRESS_BYTE_COUNT	762786
+SHUFFLE	COPY_MAP_DATA	11639000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	862905
+SHUFFLE	COMPRESS_BYTE_COUNT	862909
+SHUFFLE	COPY_MAP_DATA	393336000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	866788
+SHUFFLE	COMPRESS_BYTE_COUNT	866792
+SHUFFLE	COPY_MAP_DATA	13616000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	828844
+SHUFFLE	COMPRESS_BYTE_COUNT	828848
+SHUFFLE	COPY_MAP_DATA	16854000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	827411
+SHUFFLE	COMPRESS_BYTE_COUNT	827415
+SHUFFLE	COPY_MAP_DATA	15474000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	836521
+SHUFFLE	COMPRESS_BYTE_COUNT	836525
+SHUFFLE	COPY_MAP_DATA	207426000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	902404
+SHUFFLE	COMPRESS_BYTE_COUNT	902408
+SHUFFLE	COPY_MAP_DATA	47779000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	846182
+SHUFFLE	COMPRESS_BYTE_COUNT	846186
+SHUFFLE	COPY_MAP_DATA	23967000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	819744
+SHUFFLE	COMPRESS_BYTE_COUNT	819748
+SHUFFLE	COPY_MAP_DATA	82908000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	825272
+SHUFFLE	COMPRESS_BYTE_COUNT	825276
+SHUFFLE	COPY_MAP_DATA	9255000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	888666
+SHUFFLE	COMPRESS_BYTE_COUNT	888670
+SHUFFLE	COPY_MAP_DATA	1247060000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	764012
+SHUFFLE	COMPRESS_BYTE_COUNT	764016
+SHUFFLE	COPY_MAP_DATA	10280000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	836425
+SHUFFLE	COMPRESS_BYTE_COUNT	836429
+SHUFFLE	COPY_MAP_DATA	739247000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1012112
+SHUFFLE	COMPRESS_BYTE_COUNT	1012116
+SHUFFLE	COPY_MAP_DATA	1450761000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	813101
+SHUFFLE	COMPRESS_BYTE_COUNT	813105
+SHUFFLE	COPY_MAP_DATA	17461000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	769982
+SHUFFLE	COMPRESS_BYTE_COUNT	769986
+SHUFFLE	COPY_MAP_DATA	47753000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	799618
+SHUFFLE	COMPRESS_BYTE_COUNT	799622
+SHUFFLE	COPY_MAP_DATA	25083000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	829157
+SHUFFLE	COMPRESS_BYTE_COUNT	829161
+SHUFFLE	COPY_MAP_DATA	39539000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	678598
+SHUFFLE	COMPRESS_BYTE_COUNT	678602
+SHUFFLE	COPY_MAP_DATA	11148000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	780909
+SHUFFLE	COMPRESS_BYTE_COUNT	780913
+SHUFFLE	COPY_MAP_DATA	15508000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	818376
+SHUFFLE	COMPRESS_BYTE_COUNT	818380
+SHUFFLE	COPY_MAP_DATA	81604000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	732824
+SHUFFLE	COMPRESS_BYTE_COUNT	732828
+SHUFFLE	COPY_MAP_DATA	182873000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	801870
+SHUFFLE	COMPRESS_BYTE_COUNT	801874
+SHUFFLE	COPY_MAP_DATA	497269000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	977292
+SHUFFLE	COMPRESS_BYTE_COUNT	977296
+SHUFFLE	COPY_MAP_DATA	103381000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	861386
+SHUFFLE	COMPRESS_BYTE_COUNT	861390
+SHUFFLE	COPY_MAP_DATA	25192000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	837232
+SHUFFLE	COMPRESS_BYTE_COUNT	837236
+SHUFFLE	COPY_MAP_DATA	15448000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	824038
+SHUFFLE	COMPRESS_BYTE_COUNT	824042
+SHUFFLE	COPY_MAP_DATA	16990000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	816590
+SHUFFLE	COMPRESS_BYTE_COUNT	816594
+SHUFFLE	COPY_MAP_DATA	4528888000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	817311
+SHUFFLE	COMPRESS_BYTE_COUNT	817315
+SHUFFLE	COPY_MAP_DATA	53538000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	758229
+SHUFFLE	COMPRESS_BYTE_COUNT	758233
+SHUFFLE	COPY_MAP_DATA	3748585000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1009710
+SHUFFLE	COMPRESS_BYTE_COUNT	1009714
+SHUFFLE	COPY_MAP_DATA	16165000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	756532
+SHUFFLE	COMPRESS_BYTE_COUNT	756536
+SHUFFLE	COPY_MAP_DATA	12329000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	750057
+SHUFFLE	COMPRESS_BYTE_COUNT	750061
+SHUFFLE	COPY_MAP_DATA	16939000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	820805
+SHUFFLE	COMPRESS_BYTE_COUNT	820809
+SHUFFLE	COPY_MAP_DATA	9317000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	841669
+SHUFFLE	COMPRESS_BYTE_COUNT	841673
+SHUFFLE	COPY_MAP_DATA	13025000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	876807
+SHUFFLE	COMPRESS_BYTE_COUNT	876811
+SHUFFLE	COPY_MAP_DATA	586667000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	754153
+SHUFFLE	COMPRESS_BYTE_COUNT	754157
+SHUFFLE	COPY_MAP_DATA	104840000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	846390
+SHUFFLE	COMPRESS_BYTE_COUNT	846394
+SHUFFLE	COPY_MAP_DATA	76610000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	795829
+SHUFFLE	COMPRESS_BYTE_COUNT	795833
+SHUFFLE	COPY_MAP_DATA	57157000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	814930
+SHUFFLE	COMPRESS_BYTE_COUNT	814934
+SHUFFLE	COPY_MAP_DATA	235624000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	936282
+SHUFFLE	COMPRESS_BYTE_COUNT	936286
+SHUFFLE	COPY_MAP_DATA	20201000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	824279
+SHUFFLE	COMPRESS_BYTE_COUNT	824283
+SHUFFLE	COPY_MAP_DATA	1826165000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	738075
+SHUFFLE	COMPRESS_BYTE_COUNT	738079
+SHUFFLE	COPY_MAP_DATA	23317000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	782054
+SHUFFLE	COMPRESS_BYTE_COUNT	782058
+SHUFFLE	COPY_MAP_DATA	651425000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	751200
+SHUFFLE	COMPRESS_BYTE_COUNT	751204
+SHUFFLE	COPY_MAP_DATA	45573000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	771876
+SHUFFLE	COMPRESS_BYTE_COUNT	771880
+SHUFFLE	COPY_MAP_DATA	13674000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	782576
+SHUFFLE	COMPRESS_BYTE_COUNT	782580
+SHUFFLE	COPY_MAP_DATA	212329000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	738378
+SHUFFLE	COMPRESS_BYTE_COUNT	738382
+SHUFFLE	COPY_MAP_DATA	913637000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	772170
+SHUFFLE	COMPRESS_BYTE_COUNT	772174
+SHUFFLE	COPY_MAP_DATA	103048000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	810479
+SHUFFLE	COMPRESS_BYTE_COUNT	810483
+SHUFFLE	COPY_MAP_DATA	281823000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	754388
+SHUFFLE	COMPRESS_BYTE_COUNT	754392
+SHUFFLE	COPY_MAP_DATA	388430000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	819459
+SHUFFLE	COMPRESS_BYTE_COUNT	819463
+SHUFFLE	COPY_MAP_DATA	25921000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	812203
+SHUFFLE	COMPRESS_BYTE_COUNT	812207
+SHUFFLE	COPY_MAP_DATA	17457000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	783451
+SHUFFLE	COMPRESS_BYTE_COUNT	783455
+SHUFFLE	COPY_MAP_DATA	14259000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1118496
+SHUFFLE	COMPRESS_BYTE_COUNT	1118500
+SHUFFLE	COPY_MAP_DATA	347875000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1016507
+SHUFFLE	COMPRESS_BYTE_COUNT	1016511
+SHUFFLE	COPY_MAP_DATA	16969000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	877815
+SHUFFLE	COMPRESS_BYTE_COUNT	877819
+SHUFFLE	COPY_MAP_DATA	31591000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	870392
+SHUFFLE	COMPRESS_BYTE_COUNT	870396
+SHUFFLE	COPY_MAP_DATA	22478000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	712229
+SHUFFLE	COMPRESS_BYTE_COUNT	712233
+SHUFFLE	COPY_MAP_DATA	25068000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	836446
+SHUFFLE	COMPRESS_BYTE_COUNT	836450
+SHUFFLE	COPY_MAP_DATA	30098000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	744879
+SHUFFLE	COMPRESS_BYTE_COUNT	744883
+SHUFFLE	COPY_MAP_DATA	26283000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	778629
+SHUFFLE	COMPRESS_BYTE_COUNT	778633
+SHUFFLE	COPY_MAP_DATA	17763000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	751808
+SHUFFLE	COMPRESS_BYTE_COUNT	751812
+SHUFFLE	COPY_MAP_DATA	8923000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	745769
+SHUFFLE	COMPRESS_BYTE_COUNT	745773
+SHUFFLE	COPY_MAP_DATA	1392599000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	743582
+SHUFFLE	COMPRESS_BYTE_COUNT	743586
+SHUFFLE	COPY_MAP_DATA	404324000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	732097
+SHUFFLE	COMPRESS_BYTE_COUNT	732101
+SHUFFLE	COPY_MAP_DATA	3258470000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	744717
+SHUFFLE	COMPRESS_BYTE_COUNT	744721
+SHUFFLE	COPY_MAP_DATA	19430000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	807041
+SHUFFLE	COMPRESS_BYTE_COUNT	807045
+SHUFFLE	COPY_MAP_DATA	40094000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	759713
+SHUFFLE	COMPRESS_BYTE_COUNT	759717
+SHUFFLE	COPY_MAP_DATA	73357000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	775390
+SHUFFLE	COMPRESS_BYTE_COUNT	775394
+SHUFFLE	COPY_MAP_DATA	15756000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	750237
+SHUFFLE	COMPRESS_BYTE_COUNT	750241
+SHUFFLE	COPY_MAP_DATA	65494000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	918896
+SHUFFLE	COMPRESS_BYTE_COUNT	918900
+SHUFFLE	COPY_MAP_DATA	18625000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	800644
+SHUFFLE	COMPRESS_BYTE_COUNT	800648
+SHUFFLE	COPY_MAP_DATA	59708000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	769056
+SHUFFLE	COMPRESS_BYTE_COUNT	769060
+SHUFFLE	COPY_MAP_DATA	2059753000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	852057
+SHUFFLE	COMPRESS_BYTE_COUNT	852061
+SHUFFLE	COPY_MAP_DATA	170679000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	800170
+SHUFFLE	COMPRESS_BYTE_COUNT	800174
+SHUFFLE	COPY_MAP_DATA	16123000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	787142
+SHUFFLE	COMPRESS_BYTE_COUNT	787146
+SHUFFLE	COPY_MAP_DATA	16048000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	892819
+SHUFFLE	COMPRESS_BYTE_COUNT	892823
+SHUFFLE	COPY_MAP_DATA	63412000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	877930
+SHUFFLE	COMPRESS_BYTE_COUNT	877934
+SHUFFLE	COPY_MAP_DATA	14737000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	740232
+SHUFFLE	COMPRESS_BYTE_COUNT	740236
+SHUFFLE	COPY_MAP_DATA	688145000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	778252
+SHUFFLE	COMPRESS_BYTE_COUNT	778256
+SHUFFLE	COPY_MAP_DATA	1430367000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	783843
+SHUFFLE	COMPRESS_BYTE_COUNT	783847
+SHUFFLE	COPY_MAP_DATA	4009004000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	705016
+SHUFFLE	COMPRESS_BYTE_COUNT	705020
+SHUFFLE	COPY_MAP_DATA	530415000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	802494
+SHUFFLE	COMPRESS_BYTE_COUNT	802498
+SHUFFLE	COPY_MAP_DATA	18085000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	853013
+SHUFFLE	COMPRESS_BYTE_COUNT	853017
+SHUFFLE	COPY_MAP_DATA	537427000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	839980
+SHUFFLE	COMPRESS_BYTE_COUNT	839984
+SHUFFLE	COPY_MAP_DATA	5354865000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	862544
+SHUFFLE	COMPRESS_BYTE_COUNT	862548
+SHUFFLE	COPY_MAP_DATA	62685000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	677626
+SHUFFLE	COMPRESS_BYTE_COUNT	677630
+SHUFFLE	COPY_MAP_DATA	522889000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	952637
+SHUFFLE	COMPRESS_BYTE_COUNT	952641
+SHUFFLE	COPY_MAP_DATA	511384000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	741934
+SHUFFLE	COMPRESS_BYTE_COUNT	741938
+SHUFFLE	COPY_MAP_DATA	98491000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	803973
+SHUFFLE	COMPRESS_BYTE_COUNT	803977
+SHUFFLE	COPY_MAP_DATA	100235000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	855286
+SHUFFLE	COMPRESS_BYTE_COUNT	855290
+SHUFFLE	COPY_MAP_DATA	22569000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	740232
+SHUFFLE	COMPRESS_BYTE_COUNT	740236
+SHUFFLE	COPY_MAP_DATA	14611000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	817202
+SHUFFLE	COMPRESS_BYTE_COUNT	817206
+SHUFFLE	COPY_MAP_DATA	58362000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	804948
+SHUFFLE	COMPRESS_BYTE_COUNT	804952
+SHUFFLE	COPY_MAP_DATA	174084000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	741422
+SHUFFLE	COMPRESS_BYTE_COUNT	741426
+SHUFFLE	COPY_MAP_DATA	1042932000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	817145
+SHUFFLE	COMPRESS_BYTE_COUNT	817149
+SHUFFLE	COPY_MAP_DATA	2083388000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	810073
+SHUFFLE	COMPRESS_BYTE_COUNT	810077
+SHUFFLE	COPY_MAP_DATA	636443000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	603708
+SHUFFLE	COMPRESS_BYTE_COUNT	603712
+SHUFFLE	COPY_MAP_DATA	701819000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	879204
+SHUFFLE	COMPRESS_BYTE_COUNT	879208
+SHUFFLE	COPY_MAP_DATA	888216000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	906762
+SHUFFLE	COMPRESS_BYTE_COUNT	906766
+SHUFFLE	COPY_MAP_DATA	317968000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	922810
+SHUFFLE	COMPRESS_BYTE_COUNT	922814
+SHUFFLE	COPY_MAP_DATA	240654000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	820628
+SHUFFLE	COMPRESS_BYTE_COUNT	820632
+SHUFFLE	COPY_MAP_DATA	13323000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	784377
+SHUFFLE	COMPRESS_BYTE_COUNT	784381
+SHUFFLE	COPY_MAP_DATA	45379000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	739808
+SHUFFLE	COMPRESS_BYTE_COUNT	739812
+SHUFFLE	COPY_MAP_DATA	564568000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	717552
+SHUFFLE	COMPRESS_BYTE_COUNT	717556
+SHUFFLE	COPY_MAP_DATA	25608000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	772115
+SHUFFLE	COMPRESS_BYTE_COUNT	772119
+SHUFFLE	COPY_MAP_DATA	8774000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	809831
+SHUFFLE	COMPRESS_BYTE_COUNT	809835
+SHUFFLE	COPY_MAP_DATA	1032961000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	777558
+SHUFFLE	COMPRESS_BYTE_COUNT	777562
+SHUFFLE	COPY_MAP_DATA	13340000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	609916
+SHUFFLE	COMPRESS_BYTE_COUNT	609920
+SHUFFLE	COPY_MAP_DATA	12868000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1076174
+SHUFFLE	COMPRESS_BYTE_COUNT	1076178
+SHUFFLE	COPY_MAP_DATA	18077000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	940481
+SHUFFLE	COMPRESS_BYTE_COUNT	940485
+SHUFFLE	COPY_MAP_DATA	16411000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	714744
+SHUFFLE	COMPRESS_BYTE_COUNT	714748
+SHUFFLE	COPY_MAP_DATA	12845000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	798784
+SHUFFLE	COMPRESS_BYTE_COUNT	798788
+SHUFFLE	COPY_MAP_DATA	533393000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	996178
+SHUFFLE	COMPRESS_BYTE_COUNT	996182
+SHUFFLE	COPY_MAP_DATA	16933000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	448796
+SHUFFLE	COMPRESS_BYTE_COUNT	448800
+SHUFFLE	COPY_MAP_DATA	10980000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	956172
+SHUFFLE	COMPRESS_BYTE_COUNT	956176
+SHUFFLE	COPY_MAP_DATA	13513000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	747992
+SHUFFLE	COMPRESS_BYTE_COUNT	747996
+SHUFFLE	COPY_MAP_DATA	68929000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	99090053000
+MERGE	READ_WRITE	95311782000
+MERGE	READ_WRITE_COUNT	2
+MERGE	COMBINE	0
+MERGE	WRITE	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	14601913000
+SORT	READ_WRITE	14376388000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	183667480
+REDUCE	SETUP	281000
+REDUCE	SETUP_MEM	183667480
+REDUCE	CLEANUP	35000
+REDUCE	CLEANUP_MEM	131414984
+REDUCE	TOTAL_RUN	99085822000
+REDUCE	READ	9190943000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	83362626000
+REDUCE	WRITE	27483344000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	69190447
+REDUCE	VALUE_BYTE_COUNT	63042051
+REDUCE	REDUCE_MEM	131414984
+REDUCE	WRITE	12880000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	638180662000
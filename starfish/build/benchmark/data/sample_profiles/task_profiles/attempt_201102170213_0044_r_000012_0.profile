@@ -0,0 +1,1333 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1901132
+SHUFFLE	COMPRESS_BYTE_COUNT	1901136
+SHUFFLE	COPY_MAP_DATA	52376000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2019593
+SHUFFLE	COMPRESS_BYTE_COUNT	2019597
+SHUFFLE	COPY_MAP_DATA	30455000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1804520
+SHUFFLE	COMPRESS_BYTE_COUNT	1804524
+SHUFFLE	COPY_MAP_DATA	37426000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1948702
+SHUFFLE	COMPRESS_BYTE_COUNT	1948706
+SHUFFLE	COPY_MAP_DATA	203743000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1911937
+SHUFFLE	COMPRESS_BYTE_COUNT	1911941
+SHUFFLE	COPY_MAP_DATA	25737000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1937638
+SHUFFLE	COMPRESS_BYTE_COUNT	1937642
+SHUFFLE	COPY_MAP_DATA	32897000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1826441
+SHUFFLE	COMPRESS_BYTE_COUNT	1826445
+SHUFFLE	COPY_MAP_DATA	84603000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1772309
+SHUFFLE	COMPRESS_BYTE_COUNT	1772313
+SHUFFLE	COPY_MAP_DATA	36129000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2051701
+SHUFFLE	COMPRESS_BYTE_COUNT	2051705
+SHUFFLE	COPY_MAP_DATA	45733000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1957896
+SHUFFLE	COMPRESS_BYTE_COUNT	1957900
+SHUFFLE	COPY_MAP_DATA	30161000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1655966
+SHUFFLE	COMPRESS_BYTE_COUNT	1655970
+SHUFFLE	COPY_MAP_DATA	74446000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1978395
+SHUFFLE	COMPRESS_BYTE_COUNT	1978399
+SHUFFLE	COPY_MAP_DATA	101355000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2065699
+SHUFFLE	COMPRESS_BYTE_COUNT	2065703
+SHUFFLE	COPY_MAP_DATA	39782000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2081608
+SHUFFLE	COMPRESS_BYTE_COUNT	2081612
+SHUFFLE	COPY_MAP_DATA	62492000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2026084
+SHUFFLE	COMPRESS_BYTE_COUNT	2026088
+SHUFFLE	COPY_MAP_DATA	74894000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2032202
+SHUFFLE	COMPRESS_BYTE_COUNT	2032206
+SHUFFLE	COPY_MAP_DATA	130072000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1897802
+SHUFFLE	COMPRESS_BYTE_COUNT	1897806
+SHUFFLE	COPY_MAP_DATA	258288000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1948216
+SHUFFLE	COMPRESS_BYTE_COUNT	1948220
+SHUFFLE	COPY_MAP_DATA	65579000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1972323
+SHUFFLE	COMPRESS_BYTE_COUNT	1972327
+SHUFFLE	COPY_MAP_DATA	64458000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1866624
+SHUFFLE	COMPRESS_BYTE_COUNT	1866628
+SHUFFLE	COPY_MAP_DATA	27227000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1947139
+SHUFFLE	COMPRESS_BYTE_COUNT	1947143
+SHUFFLE	COPY_MAP_DATA	192223000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1948365
+SHUFFLE	COMPRESS_BYTE_COUNT	1948369
+SHUFFLE	COPY_MAP_DATA	349450000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1967504
+SHUFFLE	COMPRESS_BYTE_COUNT	1967508
+SHUFFLE	COPY_MAP_DATA	28593000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1948773
+SHUFFLE	COMPRESS_BYTE_COUNT	1948777
+SHUFFLE	COPY_MAP_DATA	375975000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2103961
+SHUFFLE	COMPRESS_BYTE_COUNT	2103965
+SHUFFLE	COPY_MAP_DATA	402108000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1826044
+SHUFFLE	COMPRESS_BYTE_COUNT	1826048
+SHUFFLE	COPY_MAP_DATA	180683000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1849264
+SHUFFLE	COMPRESS_BYTE_COUNT	1849268
+SHUFFLE	COPY_MAP_DATA	118443000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2027360
+SHUFFLE	COMPRESS_BYTE_COUNT	2027364
+SHUFFLE	COPY_MAP_DATA	25923000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1900855
+SHUFFLE	COMPRESS_BYTE_COUNT	1900859
+SHUFFLE	COPY_MAP_DATA	2415734000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2000176
+SHUFFLE	COMPRESS_BYTE_COUNT	2000180
+SHUFFLE	COPY_MAP_DATA	38827000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1847522
+SHUFFLE	COMPRESS_BYTE_COUNT	1847526
+SHUFFLE	COPY_MAP_DATA	613464000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1980539
+SHUFFLE	COMPRESS_BYTE_COUNT	1980543
+SHUFFLE	COPY_MAP_DATA	7168498000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1779732
+SHUFFLE	COMPRESS_BYTE_COUNT	1779736
+SHUFFLE	COPY_MAP_DATA	65200000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1882488
+SHUFFLE	COMPRESS_BYTE_COUNT	1882492
+SHUFFLE	COPY_MAP_DATA	3156899000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1932433
+SHUFFLE	COMPRESS_BYTE_COUNT	1932437
+SHUFFLE	COPY_MAP_DATA	154624000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1772519
+SHUFFLE	COMPRESS_BYTE_COUNT	1772523
+SHUFFLE	COPY_MAP_DATA	53288000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1722756
+SHUFFLE	COMPRESS_BYTE_COUNT	1722760
+SHUFFLE	COPY_MAP_DATA	191712000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1779630
+SHUFFLE	COMPRESS_BYTE_COUNT	1779634
+SHUFFLE	COPY_MAP_DATA	78488000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1830791
+SHUFFLE	COMPRESS_BYTE_COUNT	1830795
+SHUFFLE	COPY_MAP_DATA	32317000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1611053
+SHUFFLE	COMPRESS_BYTE_COUNT	1611057
+SHUFFLE	COPY_MAP_DATA	23097000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1929811
+SHUFFLE	COMPRESS_BYTE_COUNT	1929815
+SHUFFLE	COPY_MAP_DATA	93406000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1857248
+SHUFFLE	COMPRESS_BYTE_COUNT	1857252
+SHUFFLE	COPY_MAP_DATA	28972000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1602125
+SHUFFLE	COMPRESS_BYTE_COUNT	1602129
+SHUFFLE	COPY_MAP_DATA	25823000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1904197
+SHUFFLE	COMPRESS_BYTE_COUNT	1904201
+SHUFFLE	COPY_MAP_DATA	31882000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1882932
+SHUFFLE	COMPRESS_BYTE_COUNT	1882936
+SHUFFLE	COPY_MAP_DATA	21698000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1630976
+SHUFFLE	COMPRESS_BYTE_COUNT	1630980
+SHUFFLE	COPY_MAP_DATA	26992000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1873579
+SHUFFLE	COMPRESS_BYTE_COUNT	1873583
+SHUFFLE	COPY_MAP_DATA	375245000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1803010
+SHUFFLE	COMPRESS_BYTE_COUNT	1803014
+SHUFFLE	COPY_MAP_DATA	89480000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1725846
+SHUFFLE	COMPRESS_BYTE_COUNT	1725850
+SHUFFLE	COPY_MAP_DATA	25135000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1852728
+SHUFFLE	COMPRESS_BYTE_COUNT	1852732
+SHUFFLE	COPY_MAP_DATA	16042000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1770419
+SHUFFLE	COMPRESS_BYTE_COUNT	1770423
+SHUFFLE	COPY_MAP_DATA	48444000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1748970
+SHUFFLE	COMPRESS_BYTE_COUNT	1748974
+SHUFFLE	COPY_MAP_DATA	63135000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1521366
+SHUFFLE	COMPRESS_BYTE_COUNT	1521370
+SHUFFLE	COPY_MAP_DATA	13360000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1616190
+SHUFFLE	COMPRESS_BYTE_COUNT	1616194
+SHUFFLE	COPY_MAP_DATA	1571868000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1942646
+SHUFFLE	COMPRESS_BYTE_COUNT	1942650
+SHUFFLE	COPY_MAP_DATA	57043000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1807416
+SHUFFLE	COMPRESS_BYTE_COUNT	1807420
+SHUFFLE	COPY_MAP_DATA	303847000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1883227
+SHUFFLE	COMPRESS_BYTE_COUNT	1883231
+SHUFFLE	COPY_MAP_DATA	42577000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1843874
+SHUFFLE	COMPRESS_BYTE_COUNT	1843878
+SHUFFLE	COPY_MAP_DATA	59794000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1813509
+SHUFFLE	COMPRESS_BYTE_COUNT	1813513
+SHUFFLE	COPY_MAP_DATA	28115000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1748864
+SHUFFLE	COMPRESS_BYTE_COUNT	1748868
+SHUFFLE	COPY_MAP_DATA	55770000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1565428
+SHUFFLE	COMPRESS_BYTE_COUNT	1565432
+SHUFFLE	COPY_MAP_DATA	22509000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1857148
+SHUFFLE	COMPRESS_BYTE_COUNT	1857152
+SHUFFLE	COPY_MAP_DATA	353723000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1522376
+SHUFFLE	COMPRESS_BYTE_COUNT	1522380
+SHUFFLE	COPY_MAP_DATA	25822000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1575602
+SHUFFLE	COMPRESS_BYTE_COUNT	1575606
+SHUFFLE	COPY_MAP_DATA	25406000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1640464
+SHUFFLE	COMPRESS_BYTE_COUNT	1640468
+SHUFFLE	COPY_MAP_DATA	46152000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1599699
+SHUFFLE	COMPRESS_BYTE_COUNT	1599703
+SHUFFLE	COPY_MAP_DATA	75540000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1527284
+SHUFFLE	COMPRESS_BYTE_COUNT	1527288
+SHUFFLE	COPY_MAP_DATA	103658000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1637783
+SHUFFLE	COMPRESS_BYTE_COUNT	1637787
+SHUFFLE	COPY_MAP_DATA	160448000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1830952
+SHUFFLE	COMPRESS_BYTE_COUNT	1830956
+SHUFFLE	COPY_MAP_DATA	52326000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1703868
+SHUFFLE	COMPRESS_BYTE_COUNT	1703872
+SHUFFLE	COPY_MAP_DATA	51821000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1675035
+SHUFFLE	COMPRESS_BYTE_COUNT	1675039
+SHUFFLE	COPY_MAP_DATA	21255000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1829225
+SHUFFLE	COMPRESS_BYTE_COUNT	1829229
+SHUFFLE	COPY_MAP_DATA	29458000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1550483
+SHUFFLE	COMPRESS_BYTE_COUNT	1550487
+SHUFFLE	COPY_MAP_DATA	259799000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1657226
+SHUFFLE	COMPRESS_BYTE_COUNT	1657230
+SHUFFLE	COPY_MAP_DATA	10154887005
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1624992
+SHUFFLE	COMPRESS_BYTE_COUNT	1624996
+SHUFFLE	COPY_MAP_DATA	56713000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1604414
+SHUFFLE	COMPRESS_BYTE_COUNT	1604418
+SHUFFLE	COPY_MAP_DATA	386183000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1433211
+SHUFFLE	COMPRESS_BYTE_COUNT	1433215
+SHUFFLE	COPY_MAP_DATA	1829732000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1820541
+SHUFFLE	COMPRESS_BYTE_COUNT	1820545
+SHUFFLE	COPY_MAP_DATA	137425000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1623022
+SHUFFLE	COMPRESS_BYTE_COUNT	1623026
+SHUFFLE	COPY_MAP_DATA	198141000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1741948
+SHUFFLE	COMPRESS_BYTE_COUNT	1741952
+SHUFFLE	COPY_MAP_DATA	18293000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1657811
+SHUFFLE	COMPRESS_BYTE_COUNT	1657815
+SHUFFLE	COPY_MAP_DATA	317324000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1482176
+SHUFFLE	COMPRESS_BYTE_COUNT	1482180
+SHUFFLE	COPY_MAP_DATA	29051000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1721238
+SHUFFLE	COMPRESS_BYTE_COUNT	1721242
+SHUFFLE	COPY_MAP_DATA	59338000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1641394
+SHUFFLE	COMPRESS_BYTE_COUNT	1641398
+SHUFFLE	COPY_MAP_DATA	24471000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1544799
+SHUFFLE	COMPRESS_BYTE_COUNT	1544803
+SHUFFLE	COPY_MAP_DATA	3141233000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1864554
+SHUFFLE	COMPRESS_BYTE_COUNT	1864558
+SHUFFLE	COPY_MAP_DATA	25389000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1434732
+SHUFFLE	COMPRESS_BYTE_COUNT	1434736
+SHUFFLE	COPY_MAP_DATA	149150000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1511155
+SHUFFLE	COMPRESS_BYTE_COUNT	1511159
+SHUFFLE	COPY_MAP_DATA	301045000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1840840
+SHUFFLE	COMPRESS_BYTE_COUNT	1840844
+SHUFFLE	COPY_MAP_DATA	146449000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	796478
+SHUFFLE	COMPRESS_BYTE_COUNT	796482
+SHUFFLE	COPY_MAP_DATA	22451328000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1502468
+SHUFFLE	COMPRESS_BYTE_COUNT	1502472
+SHUFFLE	COPY_MAP_DATA	161942000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	859490
+SHUFFLE	COMPRESS_BYTE_COUNT	859494
+SHUFFLE	COPY_MAP_DATA	79015000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	858937
+SHUFFLE	COMPRESS_BYTE_COUNT	858941
+SHUFFLE	COPY_MAP_DATA	21469000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	913374
+SHUFFLE	COMPRESS_BYTE_COUNT	913378
+SHUFFLE	COPY_MAP_DATA	21890000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1554598
+SHUFFLE	COMPRESS_BYTE_COUNT	1554602
+SHUFFLE	COPY_MAP_DATA	38113000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1490260
+SHUFFLE	COMPRESS_BYTE_COUNT	1490264
+SHUFFLE	COPY_MAP_DATA	23514000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	990275
+SHUFFLE	COMPRESS_BYTE_COUNT	990279
+SHUFFLE	COPY_MAP_DATA	21939000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1388312
+SHUFFLE	COMPRESS_BYTE_COUNT	1388316
+SHUFFLE	COPY_MAP_DATA	249743000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1000226
+SHUFFLE	COMPRESS_BYTE_COUNT	1000230
+SHUFFLE	COPY_MAP_DATA	12976000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1795374
+SHUFFLE	COMPRESS_BYTE_COUNT	1795378
+SHUFFLE	COPY_MAP_DATA	22878000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1452594
+SHUFFLE	COMPRESS_BYTE_COUNT	1452598
+SHUFFLE	COPY_MAP_DATA	18214000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1997537
+SHUFFLE	COMPRESS_BYTE_COUNT	1997541
+SHUFFLE	COPY_MAP_DATA	90342000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1623980
+SHUFFLE	COMPRESS_BYTE_COUNT	1623984
+SHUFFLE	COPY_MAP_DATA	499985000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1061731
+SHUFFLE	COMPRESS_BYTE_COUNT	1061735
+SHUFFLE	COPY_MAP_DATA	17475000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1803008
+SHUFFLE	COMPRESS_BYTE_COUNT	1803012
+SHUFFLE	COPY_MAP_DATA	701100000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1660490
+SHUFFLE	COMPRESS_BYTE_COUNT	1660494
+SHUFFLE	COPY_MAP_DATA	1265332000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1654673
+SHUFFLE	COMPRESS_BYTE_COUNT	1654677
+SHUFFLE	COPY_MAP_DATA	470991000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1014466
+SHUFFLE	COMPRESS_BYTE_COUNT	1014470
+SHUFFLE	COPY_MAP_DATA	42352000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	969964
+SHUFFLE	COMPRESS_BYTE_COUNT	969968
+SHUFFLE	COPY_MAP_DATA	17767000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1615702
+SHUFFLE	COMPRESS_BYTE_COUNT	1615706
+SHUFFLE	COPY_MAP_DATA	31336000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1463873
+SHUFFLE	COMPRESS_BYTE_COUNT	1463877
+SHUFFLE	COPY_MAP_DATA	25197000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1593299
+SHUFFLE	COMPRESS_BYTE_COUNT	1593303
+SHUFFLE	COPY_MAP_DATA	13267000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	957864
+SHUFFLE	COMPRESS_BYTE_COUNT	957868
+SHUFFLE	COPY_MAP_DATA	152442000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1002361
+SHUFFLE	COMPRESS_BYTE_COUNT	1002365
+SHUFFLE	COPY_MAP_DATA	257786000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1031978
+SHUFFLE	COMPRESS_BYTE_COUNT	1031982
+SHUFFLE	COPY_MAP_DATA	701234000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	967180
+SHUFFLE	COMPRESS_BYTE_COUNT	967184
+SHUFFLE	COPY_MAP_DATA	179839000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1907632
+SHUFFLE	COMPRESS_BYTE_COUNT	1907636
+SHUFFLE	COPY_MAP_DATA	39235000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1664092
+SHUFFLE	COMPRESS_BYTE_COUNT	1664096
+SHUFFLE	COPY_MAP_DATA	35552000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1612281
+SHUFFLE	COMPRESS_BYTE_COUNT	1612285
+SHUFFLE	COPY_MAP_DATA	28196000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1558088
+SHUFFLE	COMPRESS_BYTE_COUNT	1558092
+SHUFFLE	COPY_MAP_DATA	18782000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	996547
+SHUFFLE	COMPRESS_BYTE_COUNT	996551
+SHUFFLE	COPY_MAP_DATA	458347000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	998051
+SHUFFLE	COMPRESS_BYTE_COUNT	998055
+SHUFFLE	COPY_MAP_DATA	17744000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	999243
+SHUFFLE	COMPRESS_BYTE_COUNT	999247
+SHUFFLE	COPY_MAP_DATA	20100000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1017417
+SHUFFLE	COMPRESS_BYTE_COUNT	1017421
+SHUFFLE	COPY_MAP_DATA	131452000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1029539
+SHUFFLE	COMPRESS_BYTE_COUNT	1029543
+SHUFFLE	COPY_MAP_DATA	902351000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	835771
+SHUFFLE	COMPRESS_BYTE_COUNT	835775
+SHUFFLE	COPY_MAP_DATA	1103849000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	991915
+SHUFFLE	COMPRESS_BYTE_COUNT	991919
+SHUFFLE	COPY_MAP_DATA	72651000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	987582
+SHUFFLE	COMPRESS_BYTE_COUNT	987586
+SHUFFLE	COPY_MAP_DATA	70313000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	990815
+SHUFFLE	COMPRESS_BYTE_COUNT	990819
+SHUFFLE	COPY_MAP_DATA	222557000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	915008
+SHUFFLE	COMPRESS_BYTE_COUNT	915012
+SHUFFLE	COPY_MAP_DATA	656905000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	963568
+SHUFFLE	COMPRESS_BYTE_COUNT	963572
+SHUFFLE	COPY_MAP_DATA	17162000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	985712
+SHUFFLE	COMPRESS_BYTE_COUNT	985716
+SHUFFLE	COPY_MAP_DATA	112191000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1000772
+SHUFFLE	COMPRESS_BYTE_COUNT	1000776
+SHUFFLE	COPY_MAP_DATA	562176000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	967341
+SHUFFLE	COMPRESS_BYTE_COUNT	967345
+SHUFFLE	COPY_MAP_DATA	767469000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	990557
+SHUFFLE	COMPRESS_BYTE_COUNT	990561
+SHUFFLE	COPY_MAP_DATA	48850000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	937289
+SHUFFLE	COMPRESS_BYTE_COUNT	937293
+SHUFFLE	COPY_MAP_DATA	345769000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	933954
+SHUFFLE	COMPRESS_BYTE_COUNT	933958
+SHUFFLE	COPY_MAP_DATA	75105000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1012586
+SHUFFLE	COMPRESS_BYTE_COUNT	1012590
+SHUFFLE	COPY_MAP_DATA	17839000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1578638
+SHUFFLE	COMPRESS_BYTE_COUNT	1578642
+SHUFFLE	COPY_MAP_DATA	9128158000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	988626
+SHUFFLE	COMPRESS_BYTE_COUNT	988630
+SHUFFLE	COPY_MAP_DATA	81167000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	985251
+SHUFFLE	COMPRESS_BYTE_COUNT	985255
+SHUFFLE	COPY_MAP_DATA	9379000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1053652
+SHUFFLE	COMPRESS_BYTE_COUNT	1053656
+SHUFFLE	COPY_MAP_DATA	24588000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1086546
+SHUFFLE	COMPRESS_BYTE_COUNT	1086550
+SHUFFLE	COPY_MAP_DATA	116812000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1014776
+SHUFFLE	COMPRESS_BYTE_COUNT	1014780
+SHUFFLE	COPY_MAP_DATA	17793000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	999937
+SHUFFLE	COMPRESS_BYTE_COUNT	999941
+SHUFFLE	COPY_MAP_DATA	608694000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	970291
+SHUFFLE	COMPRESS_BYTE_COUNT	970295
+SHUFFLE	COPY_MAP_DATA	146328000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	957753
+SHUFFLE	COMPRESS_BYTE_COUNT	957757
+SHUFFLE	COPY_MAP_DATA	878093000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	974422
+SHUFFLE	COMPRESS_BYTE_COUNT	974426
+SHUFFLE	COPY_MAP_DATA	76876000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	970250
+SHUFFLE	COMPRESS_BYTE_COUNT	970254
+SHUFFLE	COPY_MAP_DATA	15756000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	956870
+SHUFFLE	COMPRESS_BYTE_COUNT	956874
+SHUFFLE	COPY_MAP_DATA	719329000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1080450
+SHUFFLE	COMPRESS_BYTE_COUNT	1080454
+SHUFFLE	COPY_MAP_DATA	599503000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1080838
+SHUFFLE	COMPRESS_BYTE_COUNT	1080842
+SHUFFLE	COPY_MAP_DATA	341746000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	912673
+SHUFFLE	COMPRESS_BYTE_COUNT	912677
+SHUFFLE	COPY_MAP_DATA	18509000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	936663
+SHUFFLE	COMPRESS_BYTE_COUNT	936667
+SHUFFLE	COPY_MAP_DATA	1886061000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	993084
+SHUFFLE	COMPRESS_BYTE_COUNT	993088
+SHUFFLE	COPY_MAP_DATA	626924000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	938397
+SHUFFLE	COMPRESS_BYTE_COUNT	938401
+SHUFFLE	COPY_MAP_DATA	18584000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	964642
+SHUFFLE	COMPRESS_BYTE_COUNT	964646
+SHUFFLE	COPY_MAP_DATA	21853000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	940519
+SHUFFLE	COMPRESS_BYTE_COUNT	940523
+SHUFFLE	COPY_MAP_DATA	241555000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	991497
+SHUFFLE	COMPRESS_BYTE_COUNT	991501
+SHUFFLE	COPY_MAP_DATA	11513000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	969195
+SHUFFLE	COMPRESS_BYTE_COUNT	969199
+SHUFFLE	COPY_MAP_DATA	21651000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	941689
+SHUFFLE	COMPRESS_BYTE_COUNT	941693
+SHUFFLE	COPY_MAP_DATA	1035639000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	960618
+SHUFFLE	COMPRESS_BYTE_COUNT	960622
+SHUFFLE	COPY_MAP_DATA	23769000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	940019
+SHUFFLE	COMPRESS_BYTE_COUNT	940023
+SHUFFLE	COPY_MAP_DATA	61353000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1048049
+SHUFFLE	COMPRESS_BYTE_COUNT	1048053
+SHUFFLE	COPY_MAP_DATA	116424000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	967793
+SHUFFLE	COMPRESS_BYTE_COUNT	967797
+SHUFFLE	COPY_MAP_DATA	610171000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	964180
+SHUFFLE	COMPRESS_BYTE_COUNT	964184
+SHUFFLE	COPY_MAP_DATA	59470000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	980663
+SHUFFLE	COMPRESS_BYTE_COUNT	980667
+SHUFFLE	COPY_MAP_DATA	19403000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	934258
+SHUFFLE	COMPRESS_BYTE_COUNT	934262
+SHUFFLE	COPY_MAP_DATA	9564000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	905111
+SHUFFLE	COMPRESS_BYTE_COUNT	905115
+SHUFFLE	COPY_MAP_DATA	16218000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	905290
+SHUFFLE	COMPRESS_BYTE_COUNT	905294
+SHUFFLE	COPY_MAP_DATA	19086000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	891849
+SHUFFLE	COMPRESS_BYTE_COUNT	891853
+SHUFFLE	COPY_MAP_DATA	16576000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	945827
+SHUFFLE	COMPRESS_BYTE_COUNT	945831
+SHUFFLE	COPY_MAP_DATA	21288000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	948838
+SHUFFLE	COMPRESS_BYTE_COUNT	948842
+SHUFFLE	COPY_MAP_DATA	16856000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	941984
+SHUFFLE	COMPRESS_BYTE_COUNT	941988
+SHUFFLE	COPY_MAP_DATA	15541000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	968041
+SHUFFLE	COMPRESS_BYTE_COUNT	968045
+SHUFFLE	COPY_MAP_DATA	150526000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	961842
+SHUFFLE	COMPRESS_BYTE_COUNT	961846
+SHUFFLE	COPY_MAP_DATA	16447000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	990465
+SHUFFLE	COMPRESS_BYTE_COUNT	990469
+SHUFFLE	COPY_MAP_DATA	18886000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	935962
+SHUFFLE	COMPRESS_BYTE_COUNT	935966
+SHUFFLE	COPY_MAP_DATA	17932000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	942234
+SHUFFLE	COMPRESS_BYTE_COUNT	942238
+SHUFFLE	COPY_MAP_DATA	683121000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	941141
+SHUFFLE	COMPRESS_BYTE_COUNT	941145
+SHUFFLE	COPY_MAP_DATA	16596000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	915266
+SHUFFLE	COMPRESS_BYTE_COUNT	915270
+SHUFFLE	COPY_MAP_DATA	128848000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	933062
+SHUFFLE	COMPRESS_BYTE_COUNT	933066
+SHUFFLE	COPY_MAP_DATA	39429000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	925485
+SHUFFLE	COMPRESS_BYTE_COUNT	925489
+SHUFFLE	COPY_MAP_DATA	11469000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	887335
+SHUFFLE	COMPRESS_BYTE_COUNT	887339
+SHUFFLE	COPY_MAP_DATA	83540000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	979857
+SHUFFLE	COMPRESS_BYTE_COUNT	979861
+SHUFFLE	COPY_MAP_DATA	53873000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	976850
+SHUFFLE	COMPRESS_BYTE_COUNT	976854
+SHUFFLE	COPY_MAP_DATA	19153000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	956541
+SHUFFLE	COMPRESS_BYTE_COUNT	956545
+SHUFFLE	COPY_MAP_DATA	118836000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	976518
+SHUFFLE	COMPRESS_BYTE_COUNT	976522
+SHUFFLE	COPY_MAP_DATA	226564000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	916542
+SHUFFLE	COMPRESS_BYTE_COUNT	916546
+SHUFFLE	COPY_MAP_DATA	14468000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	908318
+SHUFFLE	COMPRESS_BYTE_COUNT	908322
+SHUFFLE	COPY_MAP_DATA	9364000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	904703
+SHUFFLE	COMPRESS_BYTE_COUNT	904707
+SHUFFLE	COPY_MAP_DATA	17626000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	874623
+SHUFFLE	COMPRESS_BYTE_COUNT	874627
+SHUFFLE	COPY_MAP_DATA	18459000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	915470
+SHUFFLE	COMPRESS_BYTE_COUNT	915474
+SHUFFLE	COPY_MAP_DATA	9046000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	891515
+SHUFFLE	COMPRESS_BYTE_COUNT	891519
+SHUFFLE	COPY_MAP_DATA	18097000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	898309
+SHUFFLE	COMPRESS_BYTE_COUNT	898313
+SHUFFLE	COPY_MAP_DATA	18633000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	906416
+SHUFFLE	COMPRESS_BYTE_COUNT	906420
+SHUFFLE	COPY_MAP_DATA	16680000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	914353
+SHUFFLE	COMPRESS_BYTE_COUNT	914357
+SHUFFLE	COPY_MAP_DATA	17037000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	877143
+SHUFFLE	COMPRESS_BYTE_COUNT	877147
+SHUFFLE	COPY_MAP_DATA	19603000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	877127
+SHUFFLE	COMPRESS_BYTE_COUNT	877131
+SHUFFLE	COPY_MAP_DATA	16010000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	905907
+SHUFFLE	COMPRESS_BYTE_COUNT	905911
+SHUFFLE	COPY_MAP_DATA	16041000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	932120
+SHUFFLE	COMPRESS_BYTE_COUNT	932124
+SHUFFLE	COPY_MAP_DATA	55724000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	873725
+SHUFFLE	COMPRESS_BYTE_COUNT	873729
+SHUFFLE	COPY_MAP_DATA	16299000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	889878
+SHUFFLE	COMPRESS_BYTE_COUNT	889882
+SHUFFLE	COPY_MAP_DATA	161274000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	856444
+SHUFFLE	COMPRESS_BYTE_COUNT	856448
+SHUFFLE	COPY_MAP_DATA	14444000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	862093
+SHUFFLE	COMPRESS_BYTE_COUNT	862097
+SHUFFLE	COPY_MAP_DATA	8810678000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	881005
+SHUFFLE	COMPRESS_BYTE_COUNT	881009
+SHUFFLE	COPY_MAP_DATA	1946209000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	856979
+SHUFFLE	COMPRESS_BYTE_COUNT	856983
+SHUFFLE	COPY_MAP_DATA	20979000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	892528
+SHUFFLE	COMPRESS_BYTE_COUNT	892532
+SHUFFLE	COPY_MAP_DATA	289927000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	850936
+SHUFFLE	COMPRESS_BYTE_COUNT	850940
+SHUFFLE	COPY_MAP_DATA	211346000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	832324
+SHUFFLE	COMPRESS_BYTE_COUNT	832328
+SHUFFLE	COPY_MAP_DATA	19230000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	778940
+SHUFFLE	COMPRESS_BYTE_COUNT	778944
+SHUFFLE	COPY_MAP_DATA	17704000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	832880
+SHUFFLE	COMPRESS_BYTE_COUNT	832884
+SHUFFLE	COPY_MAP_DATA	241216000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	875298
+SHUFFLE	COMPRESS_BYTE_COUNT	875302
+SHUFFLE	COPY_MAP_DATA	13733000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	844628
+SHUFFLE	COMPRESS_BYTE_COUNT	844632
+SHUFFLE	COPY_MAP_DATA	11989000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	899158
+SHUFFLE	COMPRESS_BYTE_COUNT	899162
+SHUFFLE	COPY_MAP_DATA	18187000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	800264
+SHUFFLE	COMPRESS_BYTE_COUNT	800268
+SHUFFLE	COPY_MAP_DATA	8298000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	934928
+SHUFFLE	COMPRESS_BYTE_COUNT	934932
+SHUFFLE	COPY_MAP_DATA	21169000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	836742
+SHUFFLE	COMPRESS_BYTE_COUNT	836746
+SHUFFLE	COPY_MAP_DATA	9758000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	864203
+SHUFFLE	COMPRESS_BYTE_COUNT	864207
+SHUFFLE	COPY_MAP_DATA	422946000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	797390
+SHUFFLE	COMPRESS_BYTE_COUNT	797394
+SHUFFLE	COPY_MAP_DATA	18691000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	967759
+SHUFFLE	COMPRESS_BYTE_COUNT	967763
+SHUFFLE	COPY_MAP_DATA	21063000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	848705
+SHUFFLE	COMPRESS_BYTE_COUNT	848709
+SHUFFLE	COPY_MAP_DATA	19208000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	808016
+SHUFFLE	COMPRESS_BYTE_COUNT	808020
+SHUFFLE	COPY_MAP_DATA	11451000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	855369
+SHUFFLE	COMPRESS_BYTE_COUNT	855373
+SHUFFLE	COPY_MAP_DATA	311144000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	837410
+SHUFFLE	COMPRESS_BYTE_COUNT	837414
+SHUFFLE	COPY_MAP_DATA	210577000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	914126
+SHUFFLE	COMPRESS_BYTE_COUNT	914130
+SHUFFLE	COPY_MAP_DATA	15464000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	792406
+SHUFFLE	COMPRESS_BYTE_COUNT	792410
+SHUFFLE	COPY_MAP_DATA	17490000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	741481
+SHUFFLE	COMPRESS_BYTE_COUNT	741485
+SHUFFLE	COPY_MAP_DATA	11384000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	822034
+SHUFFLE	COMPRESS_BYTE_COUNT	822038
+SHUFFLE	COPY_MAP_DATA	14940000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	793819
+SHUFFLE	COMPRESS_BYTE_COUNT	793823
+SHUFFLE	COPY_MAP_DATA	15870000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	889416
+SHUFFLE	COMPRESS_BYTE_COUNT	889420
+SHUFFLE	COPY_MAP_DATA	1228680000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	990637
+SHUFFLE	COMPRESS_BYTE_COUNT	990641
+SHUFFLE	COPY_MAP_DATA	18902000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	856284
+SHUFFLE	COMPRESS_BYTE_COUNT	856288
+SHUFFLE	COPY_MAP_DATA	210172000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	820442
+SHUFFLE	COMPRESS_BYTE_COUNT	820446
+SHUFFLE	COPY_MAP_DATA	2104103000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	953827
+SHUFFLE	COMPRESS_BYTE_COUNT	953831
+SHUFFLE	COPY_MAP_DATA	62635000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	815751
+SHUFFLE	COMPRESS_BYTE_COUNT	815755
+SHUFFLE	COPY_MAP_DATA	456693000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	834754
+SHUFFLE	COMPRESS_BYTE_COUNT	834758
+SHUFFLE	COPY_MAP_DATA	17519000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	823187
+SHUFFLE	COMPRESS_BYTE_COUNT	823191
+SHUFFLE	COPY_MAP_DATA	21280000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	793568
+SHUFFLE	COMPRESS_BYTE_COUNT	793572
+SHUFFLE	COPY_MAP_DATA	947942000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	719929
+SHUFFLE	COMPRESS_BYTE_COUNT	719933
+SHUFFLE	COPY_MAP_DATA	77122000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	743754
+SHUFFLE	COMPRESS_BYTE_COUNT	743758
+SHUFFLE	COPY_MAP_DATA	66330000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	759908
+SHUFFLE	COMPRESS_BYTE_COUNT	759912
+SHUFFLE	COPY_MAP_DATA	16164000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	877565
+SHUFFLE	COMPRESS_BYTE_COUNT	877569
+SHUFFLE	COPY_MAP_DATA	19696000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	823199
+SHUFFLE	COMPRESS_BYTE_COUNT	823203
+SHUFFLE	COPY_MAP_DATA	18764000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	823113
+SHUFFLE	COMPRESS_BYTE_COUNT	823117
+SHUFFLE	COPY_MAP_DATA	1047547000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	985789
+SHUFFLE	COMPRESS_BYTE_COUNT	985793
+SHUFFLE	COPY_MAP_DATA	17044000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	814697
+SHUFFLE	COMPRESS_BYTE_COUNT	814701
+SHUFFLE	COPY_MAP_DATA	7957000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	743648
+SHUFFLE	COMPRESS_BYTE_COUNT	743652
+SHUFFLE	COPY_MAP_DATA	13061000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	857272
+SHUFFLE	COMPRESS_BYTE_COUNT	857276
+SHUFFLE	COPY_MAP_DATA	136812000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	766252
+SHUFFLE	COMPRESS_BYTE_COUNT	766256
+SHUFFLE	COPY_MAP_DATA	23647000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	786630
+SHUFFLE	COMPRESS_BYTE_COUNT	786634
+SHUFFLE	COPY_MAP_DATA	17200000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	808327
+SHUFFLE	COMPRESS_BYTE_COUNT	808331
+SHUFFLE	COPY_MAP_DATA	51978000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	801859
+SHUFFLE	COMPRESS_BYTE_COUNT	801863
+SHUFFLE	COPY_MAP_DATA	16475000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	825768
+SHUFFLE	COMPRESS_BYTE_COUNT	825772
+SHUFFLE	COPY_MAP_DATA	18389000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	734738
+SHUFFLE	COMPRESS_BYTE_COUNT	734742
+SHUFFLE	COPY_MAP_DATA	15409000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	783215
+SHUFFLE	COMPRESS_BYTE_COUNT	783219
+SHUFFLE	COPY_MAP_DATA	98690000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	729798
+SHUFFLE	COMPRESS_BYTE_COUNT	729802
+SHUFFLE	COPY_MAP_DATA	9573000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	759066
+SHUFFLE	COMPRESS_BYTE_COUNT	759070
+SHUFFLE	COPY_MAP_DATA	8774000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	799149
+SHUFFLE	COMPRESS_BYTE_COUNT	799153
+SHUFFLE	COPY_MAP_DATA	14871000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	754076
+SHUFFLE	COMPRESS_BYTE_COUNT	754080
+SHUFFLE	COPY_MAP_DATA	14104000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	799178
+SHUFFLE	COMPRESS_BYTE_COUNT	799182
+SHUFFLE	COPY_MAP_DATA	257899000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	986991
+SHUFFLE	COMPRESS_BYTE_COUNT	986995
+SHUFFLE	COPY_MAP_DATA	659986000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	914165
+SHUFFLE	COMPRESS_BYTE_COUNT	914169
+SHUFFLE	COPY_MAP_DATA	1229190000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1115669
+SHUFFLE	COMPRESS_BYTE_COUNT	1115673
+SHUFFLE	COPY_MAP_DATA	20809000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1031837
+SHUFFLE	COMPRESS_BYTE_COUNT	1031841
+SHUFFLE	COPY_MAP_DATA	31881000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	762641
+SHUFFLE	COMPRESS_BYTE_COUNT	762645
+SHUFFLE	COPY_MAP_DATA	19996000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	730628
+SHUFFLE	COMPRESS_BYTE_COUNT	730632
+SHUFFLE	COPY_MAP_DATA	19089000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	877522
+SHUFFLE	COMPRESS_BYTE_COUNT	877526
+SHUFFLE	COPY_MAP_DATA	16038000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	743599
+SHUFFLE	COMPRESS_BYTE_COUNT	743603
+SHUFFLE	COPY_MAP_DATA	1610819000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	744071
+SHUFFLE	COMPRESS_BYTE_COUNT	744075
+SHUFFLE	COPY_MAP_DATA	18300000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	742699
+SHUFFLE	COMPRESS_BYTE_COUNT	742703
+SHUFFLE	COPY_MAP_DATA	410283000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	769222
+SHUFFLE	COMPRESS_BYTE_COUNT	769226
+SHUFFLE	COPY_MAP_DATA	46269000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	738579
+SHUFFLE	COMPRESS_BYTE_COUNT	738583
+SHUFFLE	COPY_MAP_DATA	27216000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	836496
+SHUFFLE	COMPRESS_BYTE_COUNT	836500
+SHUFFLE	COPY_MAP_DATA	484766000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	779259
+SHUFFLE	COMPRESS_BYTE_COUNT	779263
+SHUFFLE	COPY_MAP_DATA	251820000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	783194
+SHUFFLE	COMPRESS_BYTE_COUNT	783198
+SHUFFLE	COPY_MAP_DATA	48979000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	749836
+SHUFFLE	COMPRESS_BYTE_COUNT	749840
+SHUFFLE	COPY_MAP_DATA	12460000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	918107
+SHUFFLE	COMPRESS_BYTE_COUNT	918111
+SHUFFLE	COPY_MAP_DATA	1381469000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	768895
+SHUFFLE	COMPRESS_BYTE_COUNT	768899
+SHUFFLE	COPY_MAP_DATA	17621000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	778624
+SHUFFLE	COMPRESS_BYTE_COUNT	778628
+SHUFFLE	COPY_MAP_DATA	145646000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	781217
+SHUFFLE	COMPRESS_BYTE_COUNT	781221
+SHUFFLE	COPY_MAP_DATA	134860000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	846436
+SHUFFLE	COMPRESS_BYTE_COUNT	846440
+SHUFFLE	COPY_MAP_DATA	18931000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	872501
+SHUFFLE	COMPRESS_BYTE_COUNT	872505
+SHUFFLE	COPY_MAP_DATA	277980000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	778558
+SHUFFLE	COMPRESS_BYTE_COUNT	778562
+SHUFFLE	COPY_MAP_DATA	5699937000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	893977
+SHUFFLE	COMPRESS_BYTE_COUNT	893981
+SHUFFLE	COPY_MAP_DATA	341843000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	737644
+SHUFFLE	COMPRESS_BYTE_COUNT	737648
+SHUFFLE	COPY_MAP_DATA	15327000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	881218
+SHUFFLE	COMPRESS_BYTE_COUNT	881222
+SHUFFLE	COPY_MAP_DATA	15720000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	760136
+SHUFFLE	COMPRESS_BYTE_COUNT	760140
+SHUFFLE	COPY_MAP_DATA	46071000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	751336
+SHUFFLE	COMPRESS_BYTE_COUNT	751340
+SHUFFLE	COPY_MAP_DATA	9599000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	827598
+SHUFFLE	COMPRESS_BYTE_COUNT	827602
+SHUFFLE	COPY_MAP_DATA	3375883000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	800869
+SHUFFLE	COMPRESS_BYTE_COUNT	800873
+SHUFFLE	COPY_MAP_DATA	24461000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	873215
+SHUFFLE	COMPRESS_BYTE_COUNT	873219
+SHUFFLE	COPY_MAP_DATA	9487000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	778065
+SHUFFLE	COMPRESS_BYTE_COUNT	778069
+SHUFFLE	COPY_MAP_DATA	6612260000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	703415
+SHUFFLE	COMPRESS_BYTE_COUNT	703419
+SHUFFLE	COPY_MAP_DATA	55660000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	999251
+SHUFFLE	COMPRESS_BYTE_COUNT	999255
+SHUFFLE	COPY_MAP_DATA	17657000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	920976
+SHUFFLE	COMPRESS_BYTE_COUNT	920980
+SHUFFLE	COPY_MAP_DATA	8655000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	683374
+SHUFFLE	COMPRESS_BYTE_COUNT	683378
+SHUFFLE	COPY_MAP_DATA	11130000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	745161
+SHUFFLE	COMPRESS_BYTE_COUNT	745165
+SHUFFLE	COPY_MAP_DATA	245967000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	762473
+SHUFFLE	COMPRESS_BYTE_COUNT	762477
+SHUFFLE	COPY_MAP_DATA	109138000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	839443
+SHUFFLE	COMPRESS_BYTE_COUNT	839447
+SHUFFLE	COPY_MAP_DATA	116996000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	760136
+SHUFFLE	COMPRESS_BYTE_COUNT	760140
+SHUFFLE	COPY_MAP_DATA	38684000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	847697
+SHUFFLE	COMPRESS_BYTE_COUNT	847701
+SHUFFLE	COPY_MAP_DATA	19131000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	834218
+SHUFFLE	COMPRESS_BYTE_COUNT	834222
+SHUFFLE	COPY_MAP_DATA	17176000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	768007
+SHUFFLE	COMPRESS_BYTE_COUNT	768011
+SHUFFLE	COPY_MAP_DATA	227965000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	747951
+SHUFFLE	COMPRESS_BYTE_COUNT	747955
+SHUFFLE	COPY_MAP_DATA	33917000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	884903
+SHUFFLE	COMPRESS_BYTE_COUNT	884907
+SHUFFLE	COPY_MAP_DATA	17844000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	823972
+SHUFFLE	COMPRESS_BYTE_COUNT	823976
+SHUFFLE	COPY_MAP_DATA	24636000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	710064
+SHUFFLE	COMPRESS_BYTE_COUNT	710068
+SHUFFLE	COPY_MAP_DATA	18461000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	714805
+SHUFFLE	COMPRESS_BYTE_COUNT	714809
+SHUFFLE	COPY_MAP_DATA	16371000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	773513
+SHUFFLE	COMPRESS_BYTE_COUNT	773517
+SHUFFLE	COPY_MAP_DATA	10459000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	894599
+SHUFFLE	COMPRESS_BYTE_COUNT	894603
+SHUFFLE	COPY_MAP_DATA	11384000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	781460
+SHUFFLE	COMPRESS_BYTE_COUNT	781464
+SHUFFLE	COPY_MAP_DATA	9635000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	766515
+SHUFFLE	COMPRESS_BYTE_COUNT	766519
+SHUFFLE	COPY_MAP_DATA	304256000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	772541
+SHUFFLE	COMPRESS_BYTE_COUNT	772545
+SHUFFLE	COPY_MAP_DATA	203435000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	731196
+SHUFFLE	COMPRESS_BYTE_COUNT	731200
+SHUFFLE	COPY_MAP_DATA	1027653000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	806099
+SHUFFLE	COMPRESS_BYTE_COUNT	806103
+SHUFFLE	COPY_MAP_DATA	18546000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	810139
+SHUFFLE	COMPRESS_BYTE_COUNT	810143
+SHUFFLE	COPY_MAP_DATA	46808000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	859242
+SHUFFLE	COMPRESS_BYTE_COUNT	859246
+SHUFFLE	COPY_MAP_DATA	14544000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	625841
+SHUFFLE	COMPRESS_BYTE_COUNT	625845
+SHUFFLE	COPY_MAP_DATA	393747000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	718714
+SHUFFLE	COMPRESS_BYTE_COUNT	718718
+SHUFFLE	COPY_MAP_DATA	13972000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1032826
+SHUFFLE	COMPRESS_BYTE_COUNT	1032830
+SHUFFLE	COPY_MAP_DATA	36116000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	782160
+SHUFFLE	COMPRESS_BYTE_COUNT	782164
+SHUFFLE	COPY_MAP_DATA	17875000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	955933
+SHUFFLE	COMPRESS_BYTE_COUNT	955937
+SHUFFLE	COPY_MAP_DATA	16902000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	993508
+SHUFFLE	COMPRESS_BYTE_COUNT	993512
+SHUFFLE	COPY_MAP_DATA	16335000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1120017
+SHUFFLE	COMPRESS_BYTE_COUNT	1120021
+SHUFFLE	COPY_MAP_DATA	20416000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	756559
+SHUFFLE	COMPRESS_BYTE_COUNT	756563
+SHUFFLE	COPY_MAP_DATA	15753000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	105726468000
+MERGE	READ_WRITE	96429888000
+MERGE	READ_WRITE_COUNT	2
+MERGE	COMBINE	0
+MERGE	WRITE	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	14838990000
+SORT	READ_WRITE	14595234000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	130693184
+REDUCE	SETUP	325000
+REDUCE	SETUP_MEM	130693184
+REDUCE	CLEANUP	43000
+REDUCE	CLEANUP_MEM	106408800
+REDUCE	TOTAL_RUN	105377171000
+REDUCE	READ	8271544000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	90717665000
+REDUCE	WRITE	34823326000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	71469181
+REDUCE	VALUE_BYTE_COUNT	65489265
+REDUCE	REDUCE_MEM	106410848
+REDUCE	WRITE	189274000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	653060490005
@@ -0,0 +1,1333 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1936195
+SHUFFLE	COMPRESS_BYTE_COUNT	1936199
+SHUFFLE	COPY_MAP_DATA	245643000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2031913
+SHUFFLE	COMPRESS_BYTE_COUNT	2031917
+SHUFFLE	COPY_MAP_DATA	248546000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1819327
+SHUFFLE	COMPRESS_BYTE_COUNT	1819331
+SHUFFLE	COPY_MAP_DATA	329074000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1948570
+SHUFFLE	COMPRESS_BYTE_COUNT	1948574
+SHUFFLE	COPY_MAP_DATA	41315000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1892679
+SHUFFLE	COMPRESS_BYTE_COUNT	1892683
+SHUFFLE	COPY_MAP_DATA	36061000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1915924
+SHUFFLE	COMPRESS_BYTE_COUNT	1915928
+SHUFFLE	COPY_MAP_DATA	35852000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1950130
+SHUFFLE	COMPRESS_BYTE_COUNT	1950134
+SHUFFLE	COPY_MAP_DATA	73015000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1796101
+SHUFFLE	COMPRESS_BYTE_COUNT	1796105
+SHUFFLE	COPY_MAP_DATA	47410000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1683494
+SHUFFLE	COMPRESS_BYTE_COUNT	1683498
+SHUFFLE	COPY_MAP_DATA	38721000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2048048
+SHUFFLE	COMPRESS_BYTE_COUNT	2048052
+SHUFFLE	COPY_MAP_DATA	36784000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2032943
+SHUFFLE	COMPRESS_BYTE_COUNT	2032947
+SHUFFLE	COPY_MAP_DATA	45015000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1870559
+SHUFFLE	COMPRESS_BYTE_COUNT	1870563
+SHUFFLE	COPY_MAP_DATA	27476000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1875388
+SHUFFLE	COMPRESS_BYTE_COUNT	1875392
+SHUFFLE	COPY_MAP_DATA	29723000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1937852
+SHUFFLE	COMPRESS_BYTE_COUNT	1937856
+SHUFFLE	COPY_MAP_DATA	49648000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1912130
+SHUFFLE	COMPRESS_BYTE_COUNT	1912134
+SHUFFLE	COPY_MAP_DATA	113261000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2027036
+SHUFFLE	COMPRESS_BYTE_COUNT	2027040
+SHUFFLE	COPY_MAP_DATA	41300000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2031356
+SHUFFLE	COMPRESS_BYTE_COUNT	2031360
+SHUFFLE	COPY_MAP_DATA	29756000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1951268
+SHUFFLE	COMPRESS_BYTE_COUNT	1951272
+SHUFFLE	COPY_MAP_DATA	127445000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1919782
+SHUFFLE	COMPRESS_BYTE_COUNT	1919786
+SHUFFLE	COPY_MAP_DATA	58112000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2111644
+SHUFFLE	COMPRESS_BYTE_COUNT	2111648
+SHUFFLE	COPY_MAP_DATA	31789000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1911167
+SHUFFLE	COMPRESS_BYTE_COUNT	1911171
+SHUFFLE	COPY_MAP_DATA	30949000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1951075
+SHUFFLE	COMPRESS_BYTE_COUNT	1951079
+SHUFFLE	COPY_MAP_DATA	19834000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2140961
+SHUFFLE	COMPRESS_BYTE_COUNT	2140965
+SHUFFLE	COPY_MAP_DATA	66358000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1847735
+SHUFFLE	COMPRESS_BYTE_COUNT	1847739
+SHUFFLE	COPY_MAP_DATA	46881000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1859427
+SHUFFLE	COMPRESS_BYTE_COUNT	1859431
+SHUFFLE	COPY_MAP_DATA	21788000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2055413
+SHUFFLE	COMPRESS_BYTE_COUNT	2055417
+SHUFFLE	COPY_MAP_DATA	72923000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1959729
+SHUFFLE	COMPRESS_BYTE_COUNT	1959733
+SHUFFLE	COPY_MAP_DATA	55992000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1971845
+SHUFFLE	COMPRESS_BYTE_COUNT	1971849
+SHUFFLE	COPY_MAP_DATA	21802000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1895061
+SHUFFLE	COMPRESS_BYTE_COUNT	1895065
+SHUFFLE	COPY_MAP_DATA	221771000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2003656
+SHUFFLE	COMPRESS_BYTE_COUNT	2003660
+SHUFFLE	COPY_MAP_DATA	399014000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1889637
+SHUFFLE	COMPRESS_BYTE_COUNT	1889641
+SHUFFLE	COPY_MAP_DATA	956455000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1944256
+SHUFFLE	COMPRESS_BYTE_COUNT	1944260
+SHUFFLE	COPY_MAP_DATA	3784554000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1839283
+SHUFFLE	COMPRESS_BYTE_COUNT	1839287
+SHUFFLE	COPY_MAP_DATA	1269206000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1949169
+SHUFFLE	COMPRESS_BYTE_COUNT	1949173
+SHUFFLE	COPY_MAP_DATA	27089000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2020134
+SHUFFLE	COMPRESS_BYTE_COUNT	2020138
+SHUFFLE	COPY_MAP_DATA	1000905000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1813073
+SHUFFLE	COMPRESS_BYTE_COUNT	1813077
+SHUFFLE	COPY_MAP_DATA	15937000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1765073
+SHUFFLE	COMPRESS_BYTE_COUNT	1765077
+SHUFFLE	COPY_MAP_DATA	28919000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1758503
+SHUFFLE	COMPRESS_BYTE_COUNT	1758507
+SHUFFLE	COPY_MAP_DATA	73697000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1878584
+SHUFFLE	COMPRESS_BYTE_COUNT	1878588
+SHUFFLE	COPY_MAP_DATA	3030725000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1838380
+SHUFFLE	COMPRESS_BYTE_COUNT	1838384
+SHUFFLE	COPY_MAP_DATA	497315000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1623904
+SHUFFLE	COMPRESS_BYTE_COUNT	1623908
+SHUFFLE	COPY_MAP_DATA	24987000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1930570
+SHUFFLE	COMPRESS_BYTE_COUNT	1930574
+SHUFFLE	COPY_MAP_DATA	80918000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1832454
+SHUFFLE	COMPRESS_BYTE_COUNT	1832458
+SHUFFLE	COPY_MAP_DATA	30061000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1606936
+SHUFFLE	COMPRESS_BYTE_COUNT	1606940
+SHUFFLE	COPY_MAP_DATA	58722000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1870636
+SHUFFLE	COMPRESS_BYTE_COUNT	1870640
+SHUFFLE	COPY_MAP_DATA	506559000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1964333
+SHUFFLE	COMPRESS_BYTE_COUNT	1964337
+SHUFFLE	COPY_MAP_DATA	32769000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1771840
+SHUFFLE	COMPRESS_BYTE_COUNT	1771844
+SHUFFLE	COPY_MAP_DATA	42767000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1809010
+SHUFFLE	COMPRESS_BYTE_COUNT	1809014
+SHUFFLE	COPY_MAP_DATA	1769533000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1537163
+SHUFFLE	COMPRESS_BYTE_COUNT	1537167
+SHUFFLE	COPY_MAP_DATA	20924000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1762034
+SHUFFLE	COMPRESS_BYTE_COUNT	1762038
+SHUFFLE	COPY_MAP_DATA	22021000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1562733
+SHUFFLE	COMPRESS_BYTE_COUNT	1562737
+SHUFFLE	COPY_MAP_DATA	135434000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1724177
+SHUFFLE	COMPRESS_BYTE_COUNT	1724181
+SHUFFLE	COPY_MAP_DATA	31595000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1905971
+SHUFFLE	COMPRESS_BYTE_COUNT	1905975
+SHUFFLE	COPY_MAP_DATA	31315000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1660798
+SHUFFLE	COMPRESS_BYTE_COUNT	1660802
+SHUFFLE	COPY_MAP_DATA	2513274000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1829720
+SHUFFLE	COMPRESS_BYTE_COUNT	1829724
+SHUFFLE	COPY_MAP_DATA	709712000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1645949
+SHUFFLE	COMPRESS_BYTE_COUNT	1645953
+SHUFFLE	COPY_MAP_DATA	21714000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1737295
+SHUFFLE	COMPRESS_BYTE_COUNT	1737299
+SHUFFLE	COPY_MAP_DATA	25532000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1855487
+SHUFFLE	COMPRESS_BYTE_COUNT	1855491
+SHUFFLE	COPY_MAP_DATA	576023000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1927188
+SHUFFLE	COMPRESS_BYTE_COUNT	1927192
+SHUFFLE	COPY_MAP_DATA	43531000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1708053
+SHUFFLE	COMPRESS_BYTE_COUNT	1708057
+SHUFFLE	COPY_MAP_DATA	4126340000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1639294
+SHUFFLE	COMPRESS_BYTE_COUNT	1639298
+SHUFFLE	COPY_MAP_DATA	26434000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1605951
+SHUFFLE	COMPRESS_BYTE_COUNT	1605955
+SHUFFLE	COPY_MAP_DATA	46090000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1899766
+SHUFFLE	COMPRESS_BYTE_COUNT	1899770
+SHUFFLE	COPY_MAP_DATA	230440000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1603485
+SHUFFLE	COMPRESS_BYTE_COUNT	1603489
+SHUFFLE	COPY_MAP_DATA	1163118000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1579968
+SHUFFLE	COMPRESS_BYTE_COUNT	1579972
+SHUFFLE	COPY_MAP_DATA	102320000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1624423
+SHUFFLE	COMPRESS_BYTE_COUNT	1624427
+SHUFFLE	COPY_MAP_DATA	28337000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1643567
+SHUFFLE	COMPRESS_BYTE_COUNT	1643571
+SHUFFLE	COPY_MAP_DATA	40815000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1647882
+SHUFFLE	COMPRESS_BYTE_COUNT	1647886
+SHUFFLE	COPY_MAP_DATA	16079000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1912916
+SHUFFLE	COMPRESS_BYTE_COUNT	1912920
+SHUFFLE	COPY_MAP_DATA	131995000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1556481
+SHUFFLE	COMPRESS_BYTE_COUNT	1556485
+SHUFFLE	COPY_MAP_DATA	89994000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1637368
+SHUFFLE	COMPRESS_BYTE_COUNT	1637372
+SHUFFLE	COPY_MAP_DATA	11675961000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1619305
+SHUFFLE	COMPRESS_BYTE_COUNT	1619309
+SHUFFLE	COPY_MAP_DATA	30398000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1565154
+SHUFFLE	COMPRESS_BYTE_COUNT	1565158
+SHUFFLE	COPY_MAP_DATA	22818000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1591236
+SHUFFLE	COMPRESS_BYTE_COUNT	1591240
+SHUFFLE	COPY_MAP_DATA	112654000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1894083
+SHUFFLE	COMPRESS_BYTE_COUNT	1894087
+SHUFFLE	COPY_MAP_DATA	33161000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1542109
+SHUFFLE	COMPRESS_BYTE_COUNT	1542113
+SHUFFLE	COPY_MAP_DATA	159295000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1647149
+SHUFFLE	COMPRESS_BYTE_COUNT	1647153
+SHUFFLE	COPY_MAP_DATA	307514000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1838021
+SHUFFLE	COMPRESS_BYTE_COUNT	1838025
+SHUFFLE	COPY_MAP_DATA	31877000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1606542
+SHUFFLE	COMPRESS_BYTE_COUNT	1606546
+SHUFFLE	COPY_MAP_DATA	1294740000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1652535
+SHUFFLE	COMPRESS_BYTE_COUNT	1652539
+SHUFFLE	COPY_MAP_DATA	91855000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1616058
+SHUFFLE	COMPRESS_BYTE_COUNT	1616062
+SHUFFLE	COPY_MAP_DATA	118545000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1656283
+SHUFFLE	COMPRESS_BYTE_COUNT	1656287
+SHUFFLE	COPY_MAP_DATA	91063000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1772552
+SHUFFLE	COMPRESS_BYTE_COUNT	1772556
+SHUFFLE	COPY_MAP_DATA	1606141000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1724137
+SHUFFLE	COMPRESS_BYTE_COUNT	1724141
+SHUFFLE	COPY_MAP_DATA	2268125000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1721478
+SHUFFLE	COMPRESS_BYTE_COUNT	1721482
+SHUFFLE	COPY_MAP_DATA	22517000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1532333
+SHUFFLE	COMPRESS_BYTE_COUNT	1532337
+SHUFFLE	COPY_MAP_DATA	24559000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1516194
+SHUFFLE	COMPRESS_BYTE_COUNT	1516198
+SHUFFLE	COPY_MAP_DATA	2685215000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	816316
+SHUFFLE	COMPRESS_BYTE_COUNT	816320
+SHUFFLE	COPY_MAP_DATA	2679761000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1472499
+SHUFFLE	COMPRESS_BYTE_COUNT	1472503
+SHUFFLE	COPY_MAP_DATA	1436407000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1757276
+SHUFFLE	COMPRESS_BYTE_COUNT	1757280
+SHUFFLE	COPY_MAP_DATA	34442000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1621770
+SHUFFLE	COMPRESS_BYTE_COUNT	1621774
+SHUFFLE	COPY_MAP_DATA	34117000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	937205
+SHUFFLE	COMPRESS_BYTE_COUNT	937209
+SHUFFLE	COPY_MAP_DATA	285229000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1635419
+SHUFFLE	COMPRESS_BYTE_COUNT	1635423
+SHUFFLE	COPY_MAP_DATA	540849000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1005804
+SHUFFLE	COMPRESS_BYTE_COUNT	1005808
+SHUFFLE	COPY_MAP_DATA	15974000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	867180
+SHUFFLE	COMPRESS_BYTE_COUNT	867184
+SHUFFLE	COPY_MAP_DATA	18165000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1434428
+SHUFFLE	COMPRESS_BYTE_COUNT	1434432
+SHUFFLE	COPY_MAP_DATA	12417000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	858898
+SHUFFLE	COMPRESS_BYTE_COUNT	858902
+SHUFFLE	COPY_MAP_DATA	15577000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1829135
+SHUFFLE	COMPRESS_BYTE_COUNT	1829139
+SHUFFLE	COPY_MAP_DATA	39693000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1531394
+SHUFFLE	COMPRESS_BYTE_COUNT	1531398
+SHUFFLE	COPY_MAP_DATA	23122000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1013146
+SHUFFLE	COMPRESS_BYTE_COUNT	1013150
+SHUFFLE	COPY_MAP_DATA	14752000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1417759
+SHUFFLE	COMPRESS_BYTE_COUNT	1417763
+SHUFFLE	COPY_MAP_DATA	21050000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1620759
+SHUFFLE	COMPRESS_BYTE_COUNT	1620763
+SHUFFLE	COPY_MAP_DATA	26930000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1003755
+SHUFFLE	COMPRESS_BYTE_COUNT	1003759
+SHUFFLE	COPY_MAP_DATA	1307840000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2250487
+SHUFFLE	COMPRESS_BYTE_COUNT	2250491
+SHUFFLE	COPY_MAP_DATA	843837000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1078784
+SHUFFLE	COMPRESS_BYTE_COUNT	1078788
+SHUFFLE	COPY_MAP_DATA	22144000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2002181
+SHUFFLE	COMPRESS_BYTE_COUNT	2002185
+SHUFFLE	COPY_MAP_DATA	60057000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1795919
+SHUFFLE	COMPRESS_BYTE_COUNT	1795923
+SHUFFLE	COPY_MAP_DATA	26277000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1794667
+SHUFFLE	COMPRESS_BYTE_COUNT	1794671
+SHUFFLE	COPY_MAP_DATA	24243000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1649759
+SHUFFLE	COMPRESS_BYTE_COUNT	1649763
+SHUFFLE	COPY_MAP_DATA	1494094000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	974482
+SHUFFLE	COMPRESS_BYTE_COUNT	974486
+SHUFFLE	COPY_MAP_DATA	230929000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1596286
+SHUFFLE	COMPRESS_BYTE_COUNT	1596290
+SHUFFLE	COPY_MAP_DATA	25534000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1498723
+SHUFFLE	COMPRESS_BYTE_COUNT	1498727
+SHUFFLE	COPY_MAP_DATA	19707000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1052556
+SHUFFLE	COMPRESS_BYTE_COUNT	1052560
+SHUFFLE	COPY_MAP_DATA	68431000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	969266
+SHUFFLE	COMPRESS_BYTE_COUNT	969270
+SHUFFLE	COPY_MAP_DATA	1750354000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1278219
+SHUFFLE	COMPRESS_BYTE_COUNT	1278223
+SHUFFLE	COPY_MAP_DATA	231612000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1658681
+SHUFFLE	COMPRESS_BYTE_COUNT	1658685
+SHUFFLE	COPY_MAP_DATA	696205000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1636958
+SHUFFLE	COMPRESS_BYTE_COUNT	1636962
+SHUFFLE	COPY_MAP_DATA	229904000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1042269
+SHUFFLE	COMPRESS_BYTE_COUNT	1042273
+SHUFFLE	COPY_MAP_DATA	102523000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	958219
+SHUFFLE	COMPRESS_BYTE_COUNT	958223
+SHUFFLE	COPY_MAP_DATA	546866000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1805605
+SHUFFLE	COMPRESS_BYTE_COUNT	1805609
+SHUFFLE	COPY_MAP_DATA	135910000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	982805
+SHUFFLE	COMPRESS_BYTE_COUNT	982809
+SHUFFLE	COPY_MAP_DATA	2874806000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1008078
+SHUFFLE	COMPRESS_BYTE_COUNT	1008082
+SHUFFLE	COPY_MAP_DATA	22734000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	962910
+SHUFFLE	COMPRESS_BYTE_COUNT	962914
+SHUFFLE	COPY_MAP_DATA	647408000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1024943
+SHUFFLE	COMPRESS_BYTE_COUNT	1024947
+SHUFFLE	COPY_MAP_DATA	139449000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1048553
+SHUFFLE	COMPRESS_BYTE_COUNT	1048557
+SHUFFLE	COPY_MAP_DATA	15230000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	841933
+SHUFFLE	COMPRESS_BYTE_COUNT	841937
+SHUFFLE	COPY_MAP_DATA	15590000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	944047
+SHUFFLE	COMPRESS_BYTE_COUNT	944051
+SHUFFLE	COPY_MAP_DATA	49817000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	927839
+SHUFFLE	COMPRESS_BYTE_COUNT	927843
+SHUFFLE	COPY_MAP_DATA	174814000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1013488
+SHUFFLE	COMPRESS_BYTE_COUNT	1013492
+SHUFFLE	COPY_MAP_DATA	281432000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	999903
+SHUFFLE	COMPRESS_BYTE_COUNT	999907
+SHUFFLE	COPY_MAP_DATA	79212000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	966100
+SHUFFLE	COMPRESS_BYTE_COUNT	966104
+SHUFFLE	COPY_MAP_DATA	858389000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	956521
+SHUFFLE	COMPRESS_BYTE_COUNT	956525
+SHUFFLE	COPY_MAP_DATA	60061000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	981333
+SHUFFLE	COMPRESS_BYTE_COUNT	981337
+SHUFFLE	COPY_MAP_DATA	77665000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	968085
+SHUFFLE	COMPRESS_BYTE_COUNT	968089
+SHUFFLE	COPY_MAP_DATA	21897000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	982325
+SHUFFLE	COMPRESS_BYTE_COUNT	982329
+SHUFFLE	COPY_MAP_DATA	998212000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	917171
+SHUFFLE	COMPRESS_BYTE_COUNT	917175
+SHUFFLE	COPY_MAP_DATA	154533000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	986578
+SHUFFLE	COMPRESS_BYTE_COUNT	986582
+SHUFFLE	COPY_MAP_DATA	13855000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	984032
+SHUFFLE	COMPRESS_BYTE_COUNT	984036
+SHUFFLE	COPY_MAP_DATA	229081000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1010045
+SHUFFLE	COMPRESS_BYTE_COUNT	1010049
+SHUFFLE	COPY_MAP_DATA	151602000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1523184
+SHUFFLE	COMPRESS_BYTE_COUNT	1523188
+SHUFFLE	COPY_MAP_DATA	12536455000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1023837
+SHUFFLE	COMPRESS_BYTE_COUNT	1023841
+SHUFFLE	COPY_MAP_DATA	253878000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1116020
+SHUFFLE	COMPRESS_BYTE_COUNT	1116024
+SHUFFLE	COPY_MAP_DATA	49994000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	971091
+SHUFFLE	COMPRESS_BYTE_COUNT	971095
+SHUFFLE	COPY_MAP_DATA	33707000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	960509
+SHUFFLE	COMPRESS_BYTE_COUNT	960513
+SHUFFLE	COPY_MAP_DATA	174530000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	961933
+SHUFFLE	COMPRESS_BYTE_COUNT	961937
+SHUFFLE	COPY_MAP_DATA	23975000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	953435
+SHUFFLE	COMPRESS_BYTE_COUNT	953439
+SHUFFLE	COPY_MAP_DATA	22207000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	985269
+SHUFFLE	COMPRESS_BYTE_COUNT	985273
+SHUFFLE	COPY_MAP_DATA	18237000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	943630
+SHUFFLE	COMPRESS_BYTE_COUNT	943634
+SHUFFLE	COPY_MAP_DATA	17770000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	968459
+SHUFFLE	COMPRESS_BYTE_COUNT	968463
+SHUFFLE	COPY_MAP_DATA	18637000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	959448
+SHUFFLE	COMPRESS_BYTE_COUNT	959452
+SHUFFLE	COPY_MAP_DATA	334313000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1098158
+SHUFFLE	COMPRESS_BYTE_COUNT	1098162
+SHUFFLE	COPY_MAP_DATA	610587000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1022900
+SHUFFLE	COMPRESS_BYTE_COUNT	1022904
+SHUFFLE	COPY_MAP_DATA	22286000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	964646
+SHUFFLE	COMPRESS_BYTE_COUNT	964650
+SHUFFLE	COPY_MAP_DATA	22171000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	953016
+SHUFFLE	COMPRESS_BYTE_COUNT	953020
+SHUFFLE	COPY_MAP_DATA	20604000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1000283
+SHUFFLE	COMPRESS_BYTE_COUNT	1000287
+SHUFFLE	COPY_MAP_DATA	74803000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	948328
+SHUFFLE	COMPRESS_BYTE_COUNT	948332
+SHUFFLE	COPY_MAP_DATA	29944000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	982811
+SHUFFLE	COMPRESS_BYTE_COUNT	982815
+SHUFFLE	COPY_MAP_DATA	483975000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	940658
+SHUFFLE	COMPRESS_BYTE_COUNT	940662
+SHUFFLE	COPY_MAP_DATA	243686000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	984865
+SHUFFLE	COMPRESS_BYTE_COUNT	984869
+SHUFFLE	COPY_MAP_DATA	226203000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	981493
+SHUFFLE	COMPRESS_BYTE_COUNT	981497
+SHUFFLE	COPY_MAP_DATA	235436000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	949051
+SHUFFLE	COMPRESS_BYTE_COUNT	949055
+SHUFFLE	COPY_MAP_DATA	124823000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	960074
+SHUFFLE	COMPRESS_BYTE_COUNT	960078
+SHUFFLE	COPY_MAP_DATA	17207000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	970498
+SHUFFLE	COMPRESS_BYTE_COUNT	970502
+SHUFFLE	COPY_MAP_DATA	100079000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	991398
+SHUFFLE	COMPRESS_BYTE_COUNT	991402
+SHUFFLE	COPY_MAP_DATA	17899000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1038643
+SHUFFLE	COMPRESS_BYTE_COUNT	1038647
+SHUFFLE	COPY_MAP_DATA	18487000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	979470
+SHUFFLE	COMPRESS_BYTE_COUNT	979474
+SHUFFLE	COPY_MAP_DATA	758560000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	979847
+SHUFFLE	COMPRESS_BYTE_COUNT	979851
+SHUFFLE	COPY_MAP_DATA	140442000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	967224
+SHUFFLE	COMPRESS_BYTE_COUNT	967228
+SHUFFLE	COPY_MAP_DATA	369531000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	930357
+SHUFFLE	COMPRESS_BYTE_COUNT	930361
+SHUFFLE	COPY_MAP_DATA	158568000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1000843
+SHUFFLE	COMPRESS_BYTE_COUNT	1000847
+SHUFFLE	COPY_MAP_DATA	215521000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	905915
+SHUFFLE	COMPRESS_BYTE_COUNT	905919
+SHUFFLE	COPY_MAP_DATA	18606000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	948693
+SHUFFLE	COMPRESS_BYTE_COUNT	948697
+SHUFFLE	COPY_MAP_DATA	460192000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	965076
+SHUFFLE	COMPRESS_BYTE_COUNT	965080
+SHUFFLE	COPY_MAP_DATA	186208000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	942349
+SHUFFLE	COMPRESS_BYTE_COUNT	942353
+SHUFFLE	COPY_MAP_DATA	33729000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	957174
+SHUFFLE	COMPRESS_BYTE_COUNT	957178
+SHUFFLE	COPY_MAP_DATA	26218000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	982762
+SHUFFLE	COMPRESS_BYTE_COUNT	982766
+SHUFFLE	COPY_MAP_DATA	114283000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	966150
+SHUFFLE	COMPRESS_BYTE_COUNT	966154
+SHUFFLE	COPY_MAP_DATA	151309000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	947290
+SHUFFLE	COMPRESS_BYTE_COUNT	947294
+SHUFFLE	COPY_MAP_DATA	139594000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	965315
+SHUFFLE	COMPRESS_BYTE_COUNT	965319
+SHUFFLE	COPY_MAP_DATA	18862000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	945019
+SHUFFLE	COMPRESS_BYTE_COUNT	945023
+SHUFFLE	COPY_MAP_DATA	58975000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	913510
+SHUFFLE	COMPRESS_BYTE_COUNT	913514
+SHUFFLE	COPY_MAP_DATA	970005000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	923709
+SHUFFLE	COMPRESS_BYTE_COUNT	923713
+SHUFFLE	COPY_MAP_DATA	12936000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	961306
+SHUFFLE	COMPRESS_BYTE_COUNT	961310
+SHUFFLE	COPY_MAP_DATA	169271000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	935720
+SHUFFLE	COMPRESS_BYTE_COUNT	935724
+SHUFFLE	COPY_MAP_DATA	17278000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	990568
+SHUFFLE	COMPRESS_BYTE_COUNT	990572
+SHUFFLE	COPY_MAP_DATA	109985000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	927904
+SHUFFLE	COMPRESS_BYTE_COUNT	927908
+SHUFFLE	COPY_MAP_DATA	75346000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	898028
+SHUFFLE	COMPRESS_BYTE_COUNT	898032
+SHUFFLE	COPY_MAP_DATA	245756000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	985141
+SHUFFLE	COMPRESS_BYTE_COUNT	985145
+SHUFFLE	COPY_MAP_DATA	522235000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	894183
+SHUFFLE	COMPRESS_BYTE_COUNT	894187
+SHUFFLE	COPY_MAP_DATA	23287000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	957509
+SHUFFLE	COMPRESS_BYTE_COUNT	957513
+SHUFFLE	COPY_MAP_DATA	18325000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	875880
+SHUFFLE	COMPRESS_BYTE_COUNT	875884
+SHUFFLE	COPY_MAP_DATA	11325000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	917724
+SHUFFLE	COMPRESS_BYTE_COUNT	917728
+SHUFFLE	COPY_MAP_DATA	258532000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	908928
+SHUFFLE	COMPRESS_BYTE_COUNT	908932
+SHUFFLE	COPY_MAP_DATA	20983000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	910984
+SHUFFLE	COMPRESS_BYTE_COUNT	910988
+SHUFFLE	COPY_MAP_DATA	440715000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	880873
+SHUFFLE	COMPRESS_BYTE_COUNT	880877
+SHUFFLE	COPY_MAP_DATA	1024278000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	873029
+SHUFFLE	COMPRESS_BYTE_COUNT	873033
+SHUFFLE	COPY_MAP_DATA	289503000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	931983
+SHUFFLE	COMPRESS_BYTE_COUNT	931987
+SHUFFLE	COPY_MAP_DATA	525417000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	896624
+SHUFFLE	COMPRESS_BYTE_COUNT	896628
+SHUFFLE	COPY_MAP_DATA	1480918000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	861881
+SHUFFLE	COMPRESS_BYTE_COUNT	861885
+SHUFFLE	COPY_MAP_DATA	299620000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	961599
+SHUFFLE	COMPRESS_BYTE_COUNT	961603
+SHUFFLE	COPY_MAP_DATA	17855000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	900725
+SHUFFLE	COMPRESS_BYTE_COUNT	900729
+SHUFFLE	COPY_MAP_DATA	34277000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	873476
+SHUFFLE	COMPRESS_BYTE_COUNT	873480
+SHUFFLE	COPY_MAP_DATA	17146000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	899548
+SHUFFLE	COMPRESS_BYTE_COUNT	899552
+SHUFFLE	COPY_MAP_DATA	8773000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	893094
+SHUFFLE	COMPRESS_BYTE_COUNT	893098
+SHUFFLE	COPY_MAP_DATA	1439578000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	873588
+SHUFFLE	COMPRESS_BYTE_COUNT	873592
+SHUFFLE	COPY_MAP_DATA	393312000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	888448
+SHUFFLE	COMPRESS_BYTE_COUNT	888452
+SHUFFLE	COPY_MAP_DATA	508932000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	849282
+SHUFFLE	COMPRESS_BYTE_COUNT	849286
+SHUFFLE	COPY_MAP_DATA	380662000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	868123
+SHUFFLE	COMPRESS_BYTE_COUNT	868127
+SHUFFLE	COPY_MAP_DATA	109545000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	891962
+SHUFFLE	COMPRESS_BYTE_COUNT	891966
+SHUFFLE	COPY_MAP_DATA	14542000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	796029
+SHUFFLE	COMPRESS_BYTE_COUNT	796033
+SHUFFLE	COPY_MAP_DATA	2064826000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	847315
+SHUFFLE	COMPRESS_BYTE_COUNT	847319
+SHUFFLE	COPY_MAP_DATA	176140000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	832175
+SHUFFLE	COMPRESS_BYTE_COUNT	832179
+SHUFFLE	COPY_MAP_DATA	1233410000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	865527
+SHUFFLE	COMPRESS_BYTE_COUNT	865531
+SHUFFLE	COPY_MAP_DATA	22727000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	820989
+SHUFFLE	COMPRESS_BYTE_COUNT	820993
+SHUFFLE	COPY_MAP_DATA	410779000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	946300
+SHUFFLE	COMPRESS_BYTE_COUNT	946304
+SHUFFLE	COPY_MAP_DATA	558259000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	836572
+SHUFFLE	COMPRESS_BYTE_COUNT	836576
+SHUFFLE	COPY_MAP_DATA	133149000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	824858
+SHUFFLE	COMPRESS_BYTE_COUNT	824862
+SHUFFLE	COPY_MAP_DATA	18538000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	885171
+SHUFFLE	COMPRESS_BYTE_COUNT	885175
+SHUFFLE	COPY_MAP_DATA	6288017000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	851083
+SHUFFLE	COMPRESS_BYTE_COUNT	851087
+SHUFFLE	COPY_MAP_DATA	17507000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	862157
+SHUFFLE	COMPRESS_BYTE_COUNT	862161
+SHUFFLE	COPY_MAP_DATA	75568000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	850703
+SHUFFLE	COMPRESS_BYTE_COUNT	850707
+SHUFFLE	COPY_MAP_DATA	440530000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	820918
+SHUFFLE	COMPRESS_BYTE_COUNT	820922
+SHUFFLE	COPY_MAP_DATA	37830000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	782374
+SHUFFLE	COMPRESS_BYTE_COUNT	782378
+SHUFFLE	COPY_MAP_DATA	15716000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1009466
+SHUFFLE	COMPRESS_BYTE_COUNT	1009470
+SHUFFLE	COPY_MAP_DATA	43665000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	856640
+SHUFFLE	COMPRESS_BYTE_COUNT	856644
+SHUFFLE	COPY_MAP_DATA	10038000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	916597
+SHUFFLE	COMPRESS_BYTE_COUNT	916601
+SHUFFLE	COPY_MAP_DATA	9692000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	692284
+SHUFFLE	COMPRESS_BYTE_COUNT	692288
+SHUFFLE	COPY_MAP_DATA	14803000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	746354
+SHUFFLE	COMPRESS_BYTE_COUNT	746358
+SHUFFLE	COPY_MAP_DATA	21175000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	825907
+SHUFFLE	COMPRESS_BYTE_COUNT	825911
+SHUFFLE	COPY_MAP_DATA	625235000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	977544
+SHUFFLE	COMPRESS_BYTE_COUNT	977548
+SHUFFLE	COPY_MAP_DATA	111583000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	794096
+SHUFFLE	COMPRESS_BYTE_COUNT	794100
+SHUFFLE	COPY_MAP_DATA	24630000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	879880
+SHUFFLE	COMPRESS_BYTE_COUNT	879884
+SHUFFLE	COPY_MAP_DATA	15352000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	827877
+SHUFFLE	COMPRESS_BYTE_COUNT	827881
+SHUFFLE	COPY_MAP_DATA	10234000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	863908
+SHUFFLE	COMPRESS_BYTE_COUNT	863912
+SHUFFLE	COPY_MAP_DATA	96002000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	871574
+SHUFFLE	COMPRESS_BYTE_COUNT	871578
+SHUFFLE	COPY_MAP_DATA	26498000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	840023
+SHUFFLE	COMPRESS_BYTE_COUNT	840027
+SHUFFLE	COPY_MAP_DATA	4778906000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	811463
+SHUFFLE	COMPRESS_BYTE_COUNT	811467
+SHUFFLE	COPY_MAP_DATA	743731000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	980935
+SHUFFLE	COMPRESS_BYTE_COUNT	980939
+SHUFFLE	COPY_MAP_DATA	75545000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	755311
+SHUFFLE	COMPRESS_BYTE_COUNT	755315
+SHUFFLE	COPY_MAP_DATA	17025000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	765964
+SHUFFLE	COMPRESS_BYTE_COUNT	765968
+SHUFFLE	COPY_MAP_DATA	19690000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	804160
+SHUFFLE	COMPRESS_BYTE_COUNT	804164
+SHUFFLE	COPY_MAP_DATA	10846000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	874158
+SHUFFLE	COMPRESS_BYTE_COUNT	874162
+SHUFFLE	COPY_MAP_DATA	902142000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	833233
+SHUFFLE	COMPRESS_BYTE_COUNT	833237
+SHUFFLE	COPY_MAP_DATA	66792000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	845467
+SHUFFLE	COMPRESS_BYTE_COUNT	845471
+SHUFFLE	COPY_MAP_DATA	269838000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	782043
+SHUFFLE	COMPRESS_BYTE_COUNT	782047
+SHUFFLE	COPY_MAP_DATA	216896000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	807816
+SHUFFLE	COMPRESS_BYTE_COUNT	807820
+SHUFFLE	COPY_MAP_DATA	216961000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	966449
+SHUFFLE	COMPRESS_BYTE_COUNT	966453
+SHUFFLE	COPY_MAP_DATA	34136000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	741847
+SHUFFLE	COMPRESS_BYTE_COUNT	741851
+SHUFFLE	COPY_MAP_DATA	176625000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	846236
+SHUFFLE	COMPRESS_BYTE_COUNT	846240
+SHUFFLE	COPY_MAP_DATA	151949000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	812204
+SHUFFLE	COMPRESS_BYTE_COUNT	812208
+SHUFFLE	COPY_MAP_DATA	14486000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	783264
+SHUFFLE	COMPRESS_BYTE_COUNT	783268
+SHUFFLE	COPY_MAP_DATA	14707000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	844721
+SHUFFLE	COMPRESS_BYTE_COUNT	844725
+SHUFFLE	COPY_MAP_DATA	275520000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	753901
+SHUFFLE	COMPRESS_BYTE_COUNT	753905
+SHUFFLE	COPY_MAP_DATA	68144000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	784994
+SHUFFLE	COMPRESS_BYTE_COUNT	784998
+SHUFFLE	COPY_MAP_DATA	292176000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	841335
+SHUFFLE	COMPRESS_BYTE_COUNT	841339
+SHUFFLE	COPY_MAP_DATA	89674000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	791848
+SHUFFLE	COMPRESS_BYTE_COUNT	791852
+SHUFFLE	COPY_MAP_DATA	73218000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	800607
+SHUFFLE	COMPRESS_BYTE_COUNT	800611
+SHUFFLE	COPY_MAP_DATA	7629000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	832397
+SHUFFLE	COMPRESS_BYTE_COUNT	832401
+SHUFFLE	COPY_MAP_DATA	35839000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	757656
+SHUFFLE	COMPRESS_BYTE_COUNT	757660
+SHUFFLE	COPY_MAP_DATA	29460000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	797402
+SHUFFLE	COMPRESS_BYTE_COUNT	797406
+SHUFFLE	COPY_MAP_DATA	16604000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1153414
+SHUFFLE	COMPRESS_BYTE_COUNT	1153418
+SHUFFLE	COPY_MAP_DATA	18718000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	847322
+SHUFFLE	COMPRESS_BYTE_COUNT	847326
+SHUFFLE	COPY_MAP_DATA	314475000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	858032
+SHUFFLE	COMPRESS_BYTE_COUNT	858036
+SHUFFLE	COPY_MAP_DATA	18986000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	793749
+SHUFFLE	COMPRESS_BYTE_COUNT	793753
+SHUFFLE	COPY_MAP_DATA	39561000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	914438
+SHUFFLE	COMPRESS_BYTE_COUNT	914442
+SHUFFLE	COPY_MAP_DATA	601572000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1073167
+SHUFFLE	COMPRESS_BYTE_COUNT	1073171
+SHUFFLE	COPY_MAP_DATA	83656000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	801103
+SHUFFLE	COMPRESS_BYTE_COUNT	801107
+SHUFFLE	COPY_MAP_DATA	491074000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	784755
+SHUFFLE	COMPRESS_BYTE_COUNT	784759
+SHUFFLE	COPY_MAP_DATA	10806000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	788091
+SHUFFLE	COMPRESS_BYTE_COUNT	788095
+SHUFFLE	COPY_MAP_DATA	648406000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	803546
+SHUFFLE	COMPRESS_BYTE_COUNT	803550
+SHUFFLE	COPY_MAP_DATA	17171000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	753365
+SHUFFLE	COMPRESS_BYTE_COUNT	753369
+SHUFFLE	COPY_MAP_DATA	13970000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	764635
+SHUFFLE	COMPRESS_BYTE_COUNT	764639
+SHUFFLE	COPY_MAP_DATA	17325000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	805441
+SHUFFLE	COMPRESS_BYTE_COUNT	805445
+SHUFFLE	COPY_MAP_DATA	467981000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	745219
+SHUFFLE	COMPRESS_BYTE_COUNT	745223
+SHUFFLE	COPY_MAP_DATA	16867000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	783090
+SHUFFLE	COMPRESS_BYTE_COUNT	783094
+SHUFFLE	COPY_MAP_DATA	32522000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	823637
+SHUFFLE	COMPRESS_BYTE_COUNT	823641
+SHUFFLE	COPY_MAP_DATA	134296000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	793060
+SHUFFLE	COMPRESS_BYTE_COUNT	793064
+SHUFFLE	COPY_MAP_DATA	99332000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	828507
+SHUFFLE	COMPRESS_BYTE_COUNT	828511
+SHUFFLE	COPY_MAP_DATA	151878000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	902401
+SHUFFLE	COMPRESS_BYTE_COUNT	902405
+SHUFFLE	COPY_MAP_DATA	1039591000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	837523
+SHUFFLE	COMPRESS_BYTE_COUNT	837527
+SHUFFLE	COPY_MAP_DATA	293588000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	776318
+SHUFFLE	COMPRESS_BYTE_COUNT	776322
+SHUFFLE	COPY_MAP_DATA	407993000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	788838
+SHUFFLE	COMPRESS_BYTE_COUNT	788842
+SHUFFLE	COPY_MAP_DATA	18585000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	773840
+SHUFFLE	COMPRESS_BYTE_COUNT	773844
+SHUFFLE	COPY_MAP_DATA	16362000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	853788
+SHUFFLE	COMPRESS_BYTE_COUNT	853792
+SHUFFLE	COPY_MAP_DATA	18497000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	893162
+SHUFFLE	COMPRESS_BYTE_COUNT	893166
+SHUFFLE	COPY_MAP_DATA	651132000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	895632
+SHUFFLE	COMPRESS_BYTE_COUNT	895636
+SHUFFLE	COPY_MAP_DATA	29502000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	759866
+SHUFFLE	COMPRESS_BYTE_COUNT	759870
+SHUFFLE	COPY_MAP_DATA	17781000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	758841
+SHUFFLE	COMPRESS_BYTE_COUNT	758845
+SHUFFLE	COPY_MAP_DATA	16586000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	835046
+SHUFFLE	COMPRESS_BYTE_COUNT	835050
+SHUFFLE	COPY_MAP_DATA	6014248000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	745297
+SHUFFLE	COMPRESS_BYTE_COUNT	745301
+SHUFFLE	COPY_MAP_DATA	17676000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	741504
+SHUFFLE	COMPRESS_BYTE_COUNT	741508
+SHUFFLE	COPY_MAP_DATA	73537000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	778117
+SHUFFLE	COMPRESS_BYTE_COUNT	778121
+SHUFFLE	COPY_MAP_DATA	5001223000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	974779
+SHUFFLE	COMPRESS_BYTE_COUNT	974783
+SHUFFLE	COPY_MAP_DATA	189989000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	787528
+SHUFFLE	COMPRESS_BYTE_COUNT	787532
+SHUFFLE	COPY_MAP_DATA	18021000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	984463
+SHUFFLE	COMPRESS_BYTE_COUNT	984467
+SHUFFLE	COPY_MAP_DATA	810723000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	681065
+SHUFFLE	COMPRESS_BYTE_COUNT	681069
+SHUFFLE	COPY_MAP_DATA	127014000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	762361
+SHUFFLE	COMPRESS_BYTE_COUNT	762365
+SHUFFLE	COPY_MAP_DATA	15832000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	732675
+SHUFFLE	COMPRESS_BYTE_COUNT	732679
+SHUFFLE	COPY_MAP_DATA	13583000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	745297
+SHUFFLE	COMPRESS_BYTE_COUNT	745301
+SHUFFLE	COPY_MAP_DATA	16835000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	872443
+SHUFFLE	COMPRESS_BYTE_COUNT	872447
+SHUFFLE	COPY_MAP_DATA	17591000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	791202
+SHUFFLE	COMPRESS_BYTE_COUNT	791206
+SHUFFLE	COPY_MAP_DATA	12577000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	850666
+SHUFFLE	COMPRESS_BYTE_COUNT	850670
+SHUFFLE	COPY_MAP_DATA	15471000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	819442
+SHUFFLE	COMPRESS_BYTE_COUNT	819446
+SHUFFLE	COPY_MAP_DATA	75804000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	892268
+SHUFFLE	COMPRESS_BYTE_COUNT	892272
+SHUFFLE	COPY_MAP_DATA	30824000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	858843
+SHUFFLE	COMPRESS_BYTE_COUNT	858847
+SHUFFLE	COPY_MAP_DATA	17590000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	756330
+SHUFFLE	COMPRESS_BYTE_COUNT	756334
+SHUFFLE	COPY_MAP_DATA	12331000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	776846
+SHUFFLE	COMPRESS_BYTE_COUNT	776850
+SHUFFLE	COPY_MAP_DATA	79008000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	778209
+SHUFFLE	COMPRESS_BYTE_COUNT	778213
+SHUFFLE	COPY_MAP_DATA	22550000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	705175
+SHUFFLE	COMPRESS_BYTE_COUNT	705179
+SHUFFLE	COPY_MAP_DATA	7726000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	582888
+SHUFFLE	COMPRESS_BYTE_COUNT	582892
+SHUFFLE	COPY_MAP_DATA	18347000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	733994
+SHUFFLE	COMPRESS_BYTE_COUNT	733998
+SHUFFLE	COPY_MAP_DATA	24752000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	717190
+SHUFFLE	COMPRESS_BYTE_COUNT	717194
+SHUFFLE	COPY_MAP_DATA	40509000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1357327
+SHUFFLE	COMPRESS_BYTE_COUNT	1357331
+SHUFFLE	COPY_MAP_DATA	17656000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	805817
+SHUFFLE	COMPRESS_BYTE_COUNT	805821
+SHUFFLE	COPY_MAP_DATA	43283000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1027404
+SHUFFLE	COMPRESS_BYTE_COUNT	1027408
+SHUFFLE	COPY_MAP_DATA	14895000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	758981
+SHUFFLE	COMPRESS_BYTE_COUNT	758985
+SHUFFLE	COPY_MAP_DATA	15542000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	717369
+SHUFFLE	COMPRESS_BYTE_COUNT	717373
+SHUFFLE	COPY_MAP_DATA	11763000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1027398
+SHUFFLE	COMPRESS_BYTE_COUNT	1027402
+SHUFFLE	COPY_MAP_DATA	15657000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	655400
+SHUFFLE	COMPRESS_BYTE_COUNT	655404
+SHUFFLE	COPY_MAP_DATA	218087000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	956694
+SHUFFLE	COMPRESS_BYTE_COUNT	956698
+SHUFFLE	COPY_MAP_DATA	21043000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	787116
+SHUFFLE	COMPRESS_BYTE_COUNT	787120
+SHUFFLE	COPY_MAP_DATA	54687000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	974904
+SHUFFLE	COMPRESS_BYTE_COUNT	974908
+SHUFFLE	COPY_MAP_DATA	15690000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	585937
+SHUFFLE	COMPRESS_BYTE_COUNT	585941
+SHUFFLE	COPY_MAP_DATA	12733000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	766050
+SHUFFLE	COMPRESS_BYTE_COUNT	766054
+SHUFFLE	COPY_MAP_DATA	13917000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	937889
+SHUFFLE	COMPRESS_BYTE_COUNT	937893
+SHUFFLE	COPY_MAP_DATA	16121000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	798678
+SHUFFLE	COMPRESS_BYTE_COUNT	798682
+SHUFFLE	COPY_MAP_DATA	15177000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	110043607000
+MERGE	READ_WRITE	107321785000
+MERGE	READ_WRITE_COUNT	2
+MERGE	COMBINE	0
+MERGE	WRITE	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	14642428000
+SORT	READ_WRITE	14475219000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	182158760
+REDUCE	SETUP	316000
+REDUCE	SETUP_MEM	182158760
+REDUCE	CLEANUP	42000
+REDUCE	CLEANUP_MEM	152476160
+REDUCE	TOTAL_RUN	89004502000
+REDUCE	READ	7344275000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	75725654000
+REDUCE	WRITE	25010313000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	71362717
+REDUCE	VALUE_BYTE_COUNT	64820059
+REDUCE	REDUCE_MEM	152478208
+REDUCE	WRITE	14310000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	636159232044
@@ -0,0 +1,1333 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1790207
+SHUFFLE	COMPRESS_BYTE_COUNT	1790211
+SHUFFLE	COPY_MAP_DATA	230095000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1889302
+SHUFFLE	COMPRESS_BYTE_COUNT	1889306
+SHUFFLE	COPY_MAP_DATA	29930000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2018548
+SHUFFLE	COMPRESS_BYTE_COUNT	2018552
+SHUFFLE	COPY_MAP_DATA	58988000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1793110
+SHUFFLE	COMPRESS_BYTE_COUNT	1793114
+SHUFFLE	COPY_MAP_DATA	27598000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2130313
+SHUFFLE	COMPRESS_BYTE_COUNT	2130317
+SHUFFLE	COPY_MAP_DATA	39205000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1940382
+SHUFFLE	COMPRESS_BYTE_COUNT	1940386
+SHUFFLE	COPY_MAP_DATA	27300000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1905519
+SHUFFLE	COMPRESS_BYTE_COUNT	1905523
+SHUFFLE	COPY_MAP_DATA	149501000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1873908
+SHUFFLE	COMPRESS_BYTE_COUNT	1873912
+SHUFFLE	COPY_MAP_DATA	628741000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2051957
+SHUFFLE	COMPRESS_BYTE_COUNT	2051961
+SHUFFLE	COPY_MAP_DATA	36379000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1875700
+SHUFFLE	COMPRESS_BYTE_COUNT	1875704
+SHUFFLE	COPY_MAP_DATA	30334000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1808601
+SHUFFLE	COMPRESS_BYTE_COUNT	1808605
+SHUFFLE	COPY_MAP_DATA	61748000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1920626
+SHUFFLE	COMPRESS_BYTE_COUNT	1920630
+SHUFFLE	COPY_MAP_DATA	36947000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1631037
+SHUFFLE	COMPRESS_BYTE_COUNT	1631041
+SHUFFLE	COPY_MAP_DATA	162462000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1953061
+SHUFFLE	COMPRESS_BYTE_COUNT	1953065
+SHUFFLE	COPY_MAP_DATA	30045000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1902272
+SHUFFLE	COMPRESS_BYTE_COUNT	1902276
+SHUFFLE	COPY_MAP_DATA	78143000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2031518
+SHUFFLE	COMPRESS_BYTE_COUNT	2031522
+SHUFFLE	COPY_MAP_DATA	30677000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1761633
+SHUFFLE	COMPRESS_BYTE_COUNT	1761637
+SHUFFLE	COPY_MAP_DATA	23332000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1964424
+SHUFFLE	COMPRESS_BYTE_COUNT	1964428
+SHUFFLE	COPY_MAP_DATA	112893000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1828882
+SHUFFLE	COMPRESS_BYTE_COUNT	1828886
+SHUFFLE	COPY_MAP_DATA	280623000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1934781
+SHUFFLE	COMPRESS_BYTE_COUNT	1934785
+SHUFFLE	COPY_MAP_DATA	30335000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1937939
+SHUFFLE	COMPRESS_BYTE_COUNT	1937943
+SHUFFLE	COPY_MAP_DATA	29572000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1990465
+SHUFFLE	COMPRESS_BYTE_COUNT	1990469
+SHUFFLE	COPY_MAP_DATA	34532000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1905938
+SHUFFLE	COMPRESS_BYTE_COUNT	1905942
+SHUFFLE	COPY_MAP_DATA	136242000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2041521
+SHUFFLE	COMPRESS_BYTE_COUNT	2041525
+SHUFFLE	COPY_MAP_DATA	54652000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1963636
+SHUFFLE	COMPRESS_BYTE_COUNT	1963640
+SHUFFLE	COPY_MAP_DATA	653116000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2075324
+SHUFFLE	COMPRESS_BYTE_COUNT	2075328
+SHUFFLE	COPY_MAP_DATA	117793000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1789003
+SHUFFLE	COMPRESS_BYTE_COUNT	1789007
+SHUFFLE	COPY_MAP_DATA	24525000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1884801
+SHUFFLE	COMPRESS_BYTE_COUNT	1884805
+SHUFFLE	COPY_MAP_DATA	203555000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1878989
+SHUFFLE	COMPRESS_BYTE_COUNT	1878993
+SHUFFLE	COPY_MAP_DATA	5568796000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1955143
+SHUFFLE	COMPRESS_BYTE_COUNT	1955147
+SHUFFLE	COPY_MAP_DATA	275780000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1806406
+SHUFFLE	COMPRESS_BYTE_COUNT	1806410
+SHUFFLE	COPY_MAP_DATA	28522000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1935897
+SHUFFLE	COMPRESS_BYTE_COUNT	1935901
+SHUFFLE	COPY_MAP_DATA	3980849000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1802185
+SHUFFLE	COMPRESS_BYTE_COUNT	1802189
+SHUFFLE	COPY_MAP_DATA	48440000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1872870
+SHUFFLE	COMPRESS_BYTE_COUNT	1872874
+SHUFFLE	COPY_MAP_DATA	112010000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1784738
+SHUFFLE	COMPRESS_BYTE_COUNT	1784742
+SHUFFLE	COPY_MAP_DATA	919606000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1655895
+SHUFFLE	COMPRESS_BYTE_COUNT	1655899
+SHUFFLE	COPY_MAP_DATA	39106000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1941055
+SHUFFLE	COMPRESS_BYTE_COUNT	1941059
+SHUFFLE	COPY_MAP_DATA	29849000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1594016
+SHUFFLE	COMPRESS_BYTE_COUNT	1594020
+SHUFFLE	COPY_MAP_DATA	147179000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1859849
+SHUFFLE	COMPRESS_BYTE_COUNT	1859853
+SHUFFLE	COPY_MAP_DATA	96224000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1815458
+SHUFFLE	COMPRESS_BYTE_COUNT	1815462
+SHUFFLE	COPY_MAP_DATA	28607000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1797731
+SHUFFLE	COMPRESS_BYTE_COUNT	1797735
+SHUFFLE	COPY_MAP_DATA	54287000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1925578
+SHUFFLE	COMPRESS_BYTE_COUNT	1925582
+SHUFFLE	COPY_MAP_DATA	95497000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1860759
+SHUFFLE	COMPRESS_BYTE_COUNT	1860763
+SHUFFLE	COPY_MAP_DATA	261380000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1739554
+SHUFFLE	COMPRESS_BYTE_COUNT	1739558
+SHUFFLE	COPY_MAP_DATA	1647672000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1706269
+SHUFFLE	COMPRESS_BYTE_COUNT	1706273
+SHUFFLE	COPY_MAP_DATA	33606000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1636062
+SHUFFLE	COMPRESS_BYTE_COUNT	1636066
+SHUFFLE	COPY_MAP_DATA	20177000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1816025
+SHUFFLE	COMPRESS_BYTE_COUNT	1816029
+SHUFFLE	COPY_MAP_DATA	201083000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1756873
+SHUFFLE	COMPRESS_BYTE_COUNT	1756877
+SHUFFLE	COPY_MAP_DATA	33391000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1490344
+SHUFFLE	COMPRESS_BYTE_COUNT	1490348
+SHUFFLE	COPY_MAP_DATA	19609000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1878718
+SHUFFLE	COMPRESS_BYTE_COUNT	1878722
+SHUFFLE	COPY_MAP_DATA	52961000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1687719
+SHUFFLE	COMPRESS_BYTE_COUNT	1687723
+SHUFFLE	COPY_MAP_DATA	139468000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1748697
+SHUFFLE	COMPRESS_BYTE_COUNT	1748701
+SHUFFLE	COPY_MAP_DATA	21419000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1653500
+SHUFFLE	COMPRESS_BYTE_COUNT	1653504
+SHUFFLE	COPY_MAP_DATA	35620000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2063872
+SHUFFLE	COMPRESS_BYTE_COUNT	2063876
+SHUFFLE	COPY_MAP_DATA	31219000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1635772
+SHUFFLE	COMPRESS_BYTE_COUNT	1635776
+SHUFFLE	COPY_MAP_DATA	26530000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1763022
+SHUFFLE	COMPRESS_BYTE_COUNT	1763026
+SHUFFLE	COPY_MAP_DATA	40490000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1894539
+SHUFFLE	COMPRESS_BYTE_COUNT	1894543
+SHUFFLE	COPY_MAP_DATA	34661000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1843260
+SHUFFLE	COMPRESS_BYTE_COUNT	1843264
+SHUFFLE	COPY_MAP_DATA	241824000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1706386
+SHUFFLE	COMPRESS_BYTE_COUNT	1706390
+SHUFFLE	COPY_MAP_DATA	28355000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1704482
+SHUFFLE	COMPRESS_BYTE_COUNT	1704486
+SHUFFLE	COPY_MAP_DATA	66021000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1518357
+SHUFFLE	COMPRESS_BYTE_COUNT	1518361
+SHUFFLE	COPY_MAP_DATA	1109445000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1606875
+SHUFFLE	COMPRESS_BYTE_COUNT	1606879
+SHUFFLE	COPY_MAP_DATA	120306000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1876824
+SHUFFLE	COMPRESS_BYTE_COUNT	1876828
+SHUFFLE	COPY_MAP_DATA	27639000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1761718
+SHUFFLE	COMPRESS_BYTE_COUNT	1761722
+SHUFFLE	COPY_MAP_DATA	33938000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2090871
+SHUFFLE	COMPRESS_BYTE_COUNT	2090875
+SHUFFLE	COPY_MAP_DATA	34202000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1586095
+SHUFFLE	COMPRESS_BYTE_COUNT	1586099
+SHUFFLE	COPY_MAP_DATA	457106000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1655871
+SHUFFLE	COMPRESS_BYTE_COUNT	1655875
+SHUFFLE	COPY_MAP_DATA	117085000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1549558
+SHUFFLE	COMPRESS_BYTE_COUNT	1549562
+SHUFFLE	COPY_MAP_DATA	990475000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1807194
+SHUFFLE	COMPRESS_BYTE_COUNT	1807198
+SHUFFLE	COPY_MAP_DATA	523886000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1612097
+SHUFFLE	COMPRESS_BYTE_COUNT	1612101
+SHUFFLE	COPY_MAP_DATA	215693000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1603681
+SHUFFLE	COMPRESS_BYTE_COUNT	1603685
+SHUFFLE	COPY_MAP_DATA	300214000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1673028
+SHUFFLE	COMPRESS_BYTE_COUNT	1673032
+SHUFFLE	COPY_MAP_DATA	2112371000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1615660
+SHUFFLE	COMPRESS_BYTE_COUNT	1615664
+SHUFFLE	COPY_MAP_DATA	192817000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1474813
+SHUFFLE	COMPRESS_BYTE_COUNT	1474817
+SHUFFLE	COPY_MAP_DATA	16146000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1787562
+SHUFFLE	COMPRESS_BYTE_COUNT	1787566
+SHUFFLE	COPY_MAP_DATA	38141000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1645882
+SHUFFLE	COMPRESS_BYTE_COUNT	1645886
+SHUFFLE	COPY_MAP_DATA	46094000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1838614
+SHUFFLE	COMPRESS_BYTE_COUNT	1838618
+SHUFFLE	COPY_MAP_DATA	592974000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1583915
+SHUFFLE	COMPRESS_BYTE_COUNT	1583919
+SHUFFLE	COPY_MAP_DATA	956141000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1760969
+SHUFFLE	COMPRESS_BYTE_COUNT	1760973
+SHUFFLE	COPY_MAP_DATA	5121877000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1767923
+SHUFFLE	COMPRESS_BYTE_COUNT	1767927
+SHUFFLE	COPY_MAP_DATA	822555000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1801223
+SHUFFLE	COMPRESS_BYTE_COUNT	1801227
+SHUFFLE	COPY_MAP_DATA	2283500000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1602693
+SHUFFLE	COMPRESS_BYTE_COUNT	1602697
+SHUFFLE	COPY_MAP_DATA	149377000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1476546
+SHUFFLE	COMPRESS_BYTE_COUNT	1476550
+SHUFFLE	COPY_MAP_DATA	157309000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1668313
+SHUFFLE	COMPRESS_BYTE_COUNT	1668317
+SHUFFLE	COPY_MAP_DATA	801540000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1620802
+SHUFFLE	COMPRESS_BYTE_COUNT	1620806
+SHUFFLE	COPY_MAP_DATA	19854000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1736083
+SHUFFLE	COMPRESS_BYTE_COUNT	1736087
+SHUFFLE	COPY_MAP_DATA	26862000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1534923
+SHUFFLE	COMPRESS_BYTE_COUNT	1534927
+SHUFFLE	COPY_MAP_DATA	53608000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1422999
+SHUFFLE	COMPRESS_BYTE_COUNT	1423003
+SHUFFLE	COPY_MAP_DATA	70824000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1737924
+SHUFFLE	COMPRESS_BYTE_COUNT	1737928
+SHUFFLE	COPY_MAP_DATA	18039000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	777361
+SHUFFLE	COMPRESS_BYTE_COUNT	777365
+SHUFFLE	COPY_MAP_DATA	6465916000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	927223
+SHUFFLE	COMPRESS_BYTE_COUNT	927227
+SHUFFLE	COPY_MAP_DATA	19013000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1684948
+SHUFFLE	COMPRESS_BYTE_COUNT	1684952
+SHUFFLE	COPY_MAP_DATA	28171000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1572575
+SHUFFLE	COMPRESS_BYTE_COUNT	1572579
+SHUFFLE	COPY_MAP_DATA	445803000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	862986
+SHUFFLE	COMPRESS_BYTE_COUNT	862990
+SHUFFLE	COPY_MAP_DATA	211391000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1771937
+SHUFFLE	COMPRESS_BYTE_COUNT	1771941
+SHUFFLE	COPY_MAP_DATA	2156561000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	853678
+SHUFFLE	COMPRESS_BYTE_COUNT	853682
+SHUFFLE	COPY_MAP_DATA	23961000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	975314
+SHUFFLE	COMPRESS_BYTE_COUNT	975318
+SHUFFLE	COPY_MAP_DATA	315766000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1643738
+SHUFFLE	COMPRESS_BYTE_COUNT	1643742
+SHUFFLE	COPY_MAP_DATA	21913000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	987433
+SHUFFLE	COMPRESS_BYTE_COUNT	987437
+SHUFFLE	COPY_MAP_DATA	16755000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1476795
+SHUFFLE	COMPRESS_BYTE_COUNT	1476799
+SHUFFLE	COPY_MAP_DATA	78167000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	987721
+SHUFFLE	COMPRESS_BYTE_COUNT	987725
+SHUFFLE	COPY_MAP_DATA	20498000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1396069
+SHUFFLE	COMPRESS_BYTE_COUNT	1396073
+SHUFFLE	COPY_MAP_DATA	13976000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1594413
+SHUFFLE	COMPRESS_BYTE_COUNT	1594417
+SHUFFLE	COPY_MAP_DATA	213809000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1753417
+SHUFFLE	COMPRESS_BYTE_COUNT	1753421
+SHUFFLE	COPY_MAP_DATA	623836000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1081584
+SHUFFLE	COMPRESS_BYTE_COUNT	1081588
+SHUFFLE	COPY_MAP_DATA	19949000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1755531
+SHUFFLE	COMPRESS_BYTE_COUNT	1755535
+SHUFFLE	COPY_MAP_DATA	14898000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1639293
+SHUFFLE	COMPRESS_BYTE_COUNT	1639297
+SHUFFLE	COPY_MAP_DATA	26877000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1684951
+SHUFFLE	COMPRESS_BYTE_COUNT	1684955
+SHUFFLE	COPY_MAP_DATA	580222000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1578608
+SHUFFLE	COMPRESS_BYTE_COUNT	1578612
+SHUFFLE	COPY_MAP_DATA	34867000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1501690
+SHUFFLE	COMPRESS_BYTE_COUNT	1501694
+SHUFFLE	COPY_MAP_DATA	43712000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1008419
+SHUFFLE	COMPRESS_BYTE_COUNT	1008423
+SHUFFLE	COPY_MAP_DATA	47056000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	956007
+SHUFFLE	COMPRESS_BYTE_COUNT	956011
+SHUFFLE	COPY_MAP_DATA	16686000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1593430
+SHUFFLE	COMPRESS_BYTE_COUNT	1593434
+SHUFFLE	COPY_MAP_DATA	44347000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2423347
+SHUFFLE	COMPRESS_BYTE_COUNT	2423351
+SHUFFLE	COPY_MAP_DATA	40095000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1054090
+SHUFFLE	COMPRESS_BYTE_COUNT	1054094
+SHUFFLE	COPY_MAP_DATA	549509000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	970375
+SHUFFLE	COMPRESS_BYTE_COUNT	970379
+SHUFFLE	COPY_MAP_DATA	17233000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	959171
+SHUFFLE	COMPRESS_BYTE_COUNT	959175
+SHUFFLE	COPY_MAP_DATA	364622000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1964850
+SHUFFLE	COMPRESS_BYTE_COUNT	1964854
+SHUFFLE	COPY_MAP_DATA	214092000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1694803
+SHUFFLE	COMPRESS_BYTE_COUNT	1694807
+SHUFFLE	COPY_MAP_DATA	61323000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1633322
+SHUFFLE	COMPRESS_BYTE_COUNT	1633326
+SHUFFLE	COPY_MAP_DATA	19688000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	958464
+SHUFFLE	COMPRESS_BYTE_COUNT	958468
+SHUFFLE	COPY_MAP_DATA	37913000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	972768
+SHUFFLE	COMPRESS_BYTE_COUNT	972772
+SHUFFLE	COPY_MAP_DATA	27011000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	981448
+SHUFFLE	COMPRESS_BYTE_COUNT	981452
+SHUFFLE	COPY_MAP_DATA	828804000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1006801
+SHUFFLE	COMPRESS_BYTE_COUNT	1006805
+SHUFFLE	COPY_MAP_DATA	1481710000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1009019
+SHUFFLE	COMPRESS_BYTE_COUNT	1009023
+SHUFFLE	COPY_MAP_DATA	162974000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	813691
+SHUFFLE	COMPRESS_BYTE_COUNT	813695
+SHUFFLE	COPY_MAP_DATA	20657000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	940215
+SHUFFLE	COMPRESS_BYTE_COUNT	940219
+SHUFFLE	COPY_MAP_DATA	27523000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	976365
+SHUFFLE	COMPRESS_BYTE_COUNT	976369
+SHUFFLE	COPY_MAP_DATA	73719000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	938776
+SHUFFLE	COMPRESS_BYTE_COUNT	938780
+SHUFFLE	COPY_MAP_DATA	26026000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	976698
+SHUFFLE	COMPRESS_BYTE_COUNT	976702
+SHUFFLE	COPY_MAP_DATA	27267000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	967424
+SHUFFLE	COMPRESS_BYTE_COUNT	967428
+SHUFFLE	COPY_MAP_DATA	84063000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	975697
+SHUFFLE	COMPRESS_BYTE_COUNT	975701
+SHUFFLE	COPY_MAP_DATA	406631000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	909531
+SHUFFLE	COMPRESS_BYTE_COUNT	909535
+SHUFFLE	COPY_MAP_DATA	270477000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	976314
+SHUFFLE	COMPRESS_BYTE_COUNT	976318
+SHUFFLE	COPY_MAP_DATA	633306000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	954620
+SHUFFLE	COMPRESS_BYTE_COUNT	954624
+SHUFFLE	COPY_MAP_DATA	753947000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	981213
+SHUFFLE	COMPRESS_BYTE_COUNT	981217
+SHUFFLE	COPY_MAP_DATA	1431972000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	966008
+SHUFFLE	COMPRESS_BYTE_COUNT	966012
+SHUFFLE	COPY_MAP_DATA	180106000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1596488
+SHUFFLE	COMPRESS_BYTE_COUNT	1596492
+SHUFFLE	COPY_MAP_DATA	12838712000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	988338
+SHUFFLE	COMPRESS_BYTE_COUNT	988342
+SHUFFLE	COPY_MAP_DATA	38952000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	959849
+SHUFFLE	COMPRESS_BYTE_COUNT	959853
+SHUFFLE	COPY_MAP_DATA	20451000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1171851
+SHUFFLE	COMPRESS_BYTE_COUNT	1171855
+SHUFFLE	COPY_MAP_DATA	24305000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	960202
+SHUFFLE	COMPRESS_BYTE_COUNT	960206
+SHUFFLE	COPY_MAP_DATA	22674000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1068525
+SHUFFLE	COMPRESS_BYTE_COUNT	1068529
+SHUFFLE	COPY_MAP_DATA	22769000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	941767
+SHUFFLE	COMPRESS_BYTE_COUNT	941771
+SHUFFLE	COPY_MAP_DATA	847735000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	929585
+SHUFFLE	COMPRESS_BYTE_COUNT	929589
+SHUFFLE	COPY_MAP_DATA	20404000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	975300
+SHUFFLE	COMPRESS_BYTE_COUNT	975304
+SHUFFLE	COPY_MAP_DATA	295103000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	971010
+SHUFFLE	COMPRESS_BYTE_COUNT	971014
+SHUFFLE	COPY_MAP_DATA	285468000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	953721
+SHUFFLE	COMPRESS_BYTE_COUNT	953725
+SHUFFLE	COPY_MAP_DATA	199695000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	974700
+SHUFFLE	COMPRESS_BYTE_COUNT	974704
+SHUFFLE	COPY_MAP_DATA	1678661000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	967153
+SHUFFLE	COMPRESS_BYTE_COUNT	967157
+SHUFFLE	COPY_MAP_DATA	506166000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1058701
+SHUFFLE	COMPRESS_BYTE_COUNT	1058705
+SHUFFLE	COPY_MAP_DATA	36824000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1055206
+SHUFFLE	COMPRESS_BYTE_COUNT	1055210
+SHUFFLE	COPY_MAP_DATA	781446000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	926361
+SHUFFLE	COMPRESS_BYTE_COUNT	926365
+SHUFFLE	COPY_MAP_DATA	229198000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	918758
+SHUFFLE	COMPRESS_BYTE_COUNT	918762
+SHUFFLE	COPY_MAP_DATA	19638000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	981062
+SHUFFLE	COMPRESS_BYTE_COUNT	981066
+SHUFFLE	COPY_MAP_DATA	321432000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	916536
+SHUFFLE	COMPRESS_BYTE_COUNT	916540
+SHUFFLE	COPY_MAP_DATA	17476000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	980691
+SHUFFLE	COMPRESS_BYTE_COUNT	980695
+SHUFFLE	COPY_MAP_DATA	20599000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	940335
+SHUFFLE	COMPRESS_BYTE_COUNT	940339
+SHUFFLE	COPY_MAP_DATA	19020000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	938368
+SHUFFLE	COMPRESS_BYTE_COUNT	938372
+SHUFFLE	COPY_MAP_DATA	16556000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	963241
+SHUFFLE	COMPRESS_BYTE_COUNT	963245
+SHUFFLE	COPY_MAP_DATA	40588000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	960366
+SHUFFLE	COMPRESS_BYTE_COUNT	960370
+SHUFFLE	COPY_MAP_DATA	40323000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	934973
+SHUFFLE	COMPRESS_BYTE_COUNT	934977
+SHUFFLE	COPY_MAP_DATA	19423000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	963591
+SHUFFLE	COMPRESS_BYTE_COUNT	963595
+SHUFFLE	COPY_MAP_DATA	18029000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	925788
+SHUFFLE	COMPRESS_BYTE_COUNT	925792
+SHUFFLE	COPY_MAP_DATA	121714000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1053606
+SHUFFLE	COMPRESS_BYTE_COUNT	1053610
+SHUFFLE	COPY_MAP_DATA	179556000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	947409
+SHUFFLE	COMPRESS_BYTE_COUNT	947413
+SHUFFLE	COPY_MAP_DATA	242655000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	919353
+SHUFFLE	COMPRESS_BYTE_COUNT	919357
+SHUFFLE	COPY_MAP_DATA	17447000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	900106
+SHUFFLE	COMPRESS_BYTE_COUNT	900110
+SHUFFLE	COPY_MAP_DATA	6032000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	905422
+SHUFFLE	COMPRESS_BYTE_COUNT	905426
+SHUFFLE	COPY_MAP_DATA	623214000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	874354
+SHUFFLE	COMPRESS_BYTE_COUNT	874358
+SHUFFLE	COPY_MAP_DATA	418085000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	946511
+SHUFFLE	COMPRESS_BYTE_COUNT	946515
+SHUFFLE	COPY_MAP_DATA	17210000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	961989
+SHUFFLE	COMPRESS_BYTE_COUNT	961993
+SHUFFLE	COPY_MAP_DATA	100041000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	968419
+SHUFFLE	COMPRESS_BYTE_COUNT	968423
+SHUFFLE	COPY_MAP_DATA	207824000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	928293
+SHUFFLE	COMPRESS_BYTE_COUNT	928297
+SHUFFLE	COPY_MAP_DATA	36563000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	931264
+SHUFFLE	COMPRESS_BYTE_COUNT	931268
+SHUFFLE	COPY_MAP_DATA	46191000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	932143
+SHUFFLE	COMPRESS_BYTE_COUNT	932147
+SHUFFLE	COPY_MAP_DATA	17307000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	897265
+SHUFFLE	COMPRESS_BYTE_COUNT	897269
+SHUFFLE	COPY_MAP_DATA	218457000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	910038
+SHUFFLE	COMPRESS_BYTE_COUNT	910042
+SHUFFLE	COPY_MAP_DATA	417396000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	916384
+SHUFFLE	COMPRESS_BYTE_COUNT	916388
+SHUFFLE	COPY_MAP_DATA	16179000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	909143
+SHUFFLE	COMPRESS_BYTE_COUNT	909147
+SHUFFLE	COPY_MAP_DATA	28457000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	976355
+SHUFFLE	COMPRESS_BYTE_COUNT	976359
+SHUFFLE	COPY_MAP_DATA	50059000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	949645
+SHUFFLE	COMPRESS_BYTE_COUNT	949649
+SHUFFLE	COPY_MAP_DATA	157941000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	906679
+SHUFFLE	COMPRESS_BYTE_COUNT	906683
+SHUFFLE	COPY_MAP_DATA	108893000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	938385
+SHUFFLE	COMPRESS_BYTE_COUNT	938389
+SHUFFLE	COPY_MAP_DATA	25391000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	854956
+SHUFFLE	COMPRESS_BYTE_COUNT	854960
+SHUFFLE	COPY_MAP_DATA	15895000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	943393
+SHUFFLE	COMPRESS_BYTE_COUNT	943397
+SHUFFLE	COPY_MAP_DATA	17477000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	907498
+SHUFFLE	COMPRESS_BYTE_COUNT	907502
+SHUFFLE	COPY_MAP_DATA	1315438000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	893617
+SHUFFLE	COMPRESS_BYTE_COUNT	893621
+SHUFFLE	COPY_MAP_DATA	20285000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	877648
+SHUFFLE	COMPRESS_BYTE_COUNT	877652
+SHUFFLE	COPY_MAP_DATA	20708000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	959846
+SHUFFLE	COMPRESS_BYTE_COUNT	959850
+SHUFFLE	COPY_MAP_DATA	23956000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	919126
+SHUFFLE	COMPRESS_BYTE_COUNT	919130
+SHUFFLE	COPY_MAP_DATA	2236241000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	862348
+SHUFFLE	COMPRESS_BYTE_COUNT	862352
+SHUFFLE	COPY_MAP_DATA	487497000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	884634
+SHUFFLE	COMPRESS_BYTE_COUNT	884638
+SHUFFLE	COPY_MAP_DATA	68515000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	887490
+SHUFFLE	COMPRESS_BYTE_COUNT	887494
+SHUFFLE	COPY_MAP_DATA	9750000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	922165
+SHUFFLE	COMPRESS_BYTE_COUNT	922169
+SHUFFLE	COPY_MAP_DATA	402216000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	879227
+SHUFFLE	COMPRESS_BYTE_COUNT	879231
+SHUFFLE	COPY_MAP_DATA	16716000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	869957
+SHUFFLE	COMPRESS_BYTE_COUNT	869961
+SHUFFLE	COPY_MAP_DATA	562158000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	916458
+SHUFFLE	COMPRESS_BYTE_COUNT	916462
+SHUFFLE	COPY_MAP_DATA	744731000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	858892
+SHUFFLE	COMPRESS_BYTE_COUNT	858896
+SHUFFLE	COPY_MAP_DATA	20329000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	876197
+SHUFFLE	COMPRESS_BYTE_COUNT	876201
+SHUFFLE	COPY_MAP_DATA	7869000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	929706
+SHUFFLE	COMPRESS_BYTE_COUNT	929710
+SHUFFLE	COPY_MAP_DATA	16618000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	851889
+SHUFFLE	COMPRESS_BYTE_COUNT	851893
+SHUFFLE	COPY_MAP_DATA	281580000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	863359
+SHUFFLE	COMPRESS_BYTE_COUNT	863363
+SHUFFLE	COPY_MAP_DATA	248450000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	872308
+SHUFFLE	COMPRESS_BYTE_COUNT	872312
+SHUFFLE	COPY_MAP_DATA	104373000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	852869
+SHUFFLE	COMPRESS_BYTE_COUNT	852873
+SHUFFLE	COPY_MAP_DATA	215433000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	870354
+SHUFFLE	COMPRESS_BYTE_COUNT	870358
+SHUFFLE	COPY_MAP_DATA	1686520000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	876391
+SHUFFLE	COMPRESS_BYTE_COUNT	876395
+SHUFFLE	COPY_MAP_DATA	90745000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	852727
+SHUFFLE	COMPRESS_BYTE_COUNT	852731
+SHUFFLE	COPY_MAP_DATA	810162000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	833318
+SHUFFLE	COMPRESS_BYTE_COUNT	833322
+SHUFFLE	COPY_MAP_DATA	47935000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	856181
+SHUFFLE	COMPRESS_BYTE_COUNT	856185
+SHUFFLE	COPY_MAP_DATA	20879000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	842136
+SHUFFLE	COMPRESS_BYTE_COUNT	842140
+SHUFFLE	COPY_MAP_DATA	17346000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	778411
+SHUFFLE	COMPRESS_BYTE_COUNT	778415
+SHUFFLE	COPY_MAP_DATA	16238000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	817031
+SHUFFLE	COMPRESS_BYTE_COUNT	817035
+SHUFFLE	COPY_MAP_DATA	22725000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	804008
+SHUFFLE	COMPRESS_BYTE_COUNT	804012
+SHUFFLE	COPY_MAP_DATA	15270000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	921113
+SHUFFLE	COMPRESS_BYTE_COUNT	921117
+SHUFFLE	COPY_MAP_DATA	641127837
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	821864
+SHUFFLE	COMPRESS_BYTE_COUNT	821868
+SHUFFLE	COPY_MAP_DATA	272950000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	836431
+SHUFFLE	COMPRESS_BYTE_COUNT	836435
+SHUFFLE	COPY_MAP_DATA	23139000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	830714
+SHUFFLE	COMPRESS_BYTE_COUNT	830718
+SHUFFLE	COPY_MAP_DATA	147813000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	975415
+SHUFFLE	COMPRESS_BYTE_COUNT	975419
+SHUFFLE	COPY_MAP_DATA	21424000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	786541
+SHUFFLE	COMPRESS_BYTE_COUNT	786545
+SHUFFLE	COPY_MAP_DATA	8130000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	894689
+SHUFFLE	COMPRESS_BYTE_COUNT	894693
+SHUFFLE	COPY_MAP_DATA	19395000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	831511
+SHUFFLE	COMPRESS_BYTE_COUNT	831515
+SHUFFLE	COPY_MAP_DATA	531922000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	776846
+SHUFFLE	COMPRESS_BYTE_COUNT	776850
+SHUFFLE	COPY_MAP_DATA	579971000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	828829
+SHUFFLE	COMPRESS_BYTE_COUNT	828833
+SHUFFLE	COPY_MAP_DATA	93073000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	862071
+SHUFFLE	COMPRESS_BYTE_COUNT	862075
+SHUFFLE	COPY_MAP_DATA	16237000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	894016
+SHUFFLE	COMPRESS_BYTE_COUNT	894020
+SHUFFLE	COPY_MAP_DATA	16120000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1122281
+SHUFFLE	COMPRESS_BYTE_COUNT	1122285
+SHUFFLE	COPY_MAP_DATA	20569000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	731611
+SHUFFLE	COMPRESS_BYTE_COUNT	731615
+SHUFFLE	COPY_MAP_DATA	88345000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	791976
+SHUFFLE	COMPRESS_BYTE_COUNT	791980
+SHUFFLE	COPY_MAP_DATA	62921000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	837318
+SHUFFLE	COMPRESS_BYTE_COUNT	837322
+SHUFFLE	COPY_MAP_DATA	9003000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	944864
+SHUFFLE	COMPRESS_BYTE_COUNT	944868
+SHUFFLE	COPY_MAP_DATA	468070000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	853544
+SHUFFLE	COMPRESS_BYTE_COUNT	853548
+SHUFFLE	COPY_MAP_DATA	399533000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	815607
+SHUFFLE	COMPRESS_BYTE_COUNT	815611
+SHUFFLE	COPY_MAP_DATA	101232000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	818555
+SHUFFLE	COMPRESS_BYTE_COUNT	818559
+SHUFFLE	COPY_MAP_DATA	766610000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	885031
+SHUFFLE	COMPRESS_BYTE_COUNT	885035
+SHUFFLE	COPY_MAP_DATA	707431000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	847959
+SHUFFLE	COMPRESS_BYTE_COUNT	847963
+SHUFFLE	COPY_MAP_DATA	19932000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	847468
+SHUFFLE	COMPRESS_BYTE_COUNT	847472
+SHUFFLE	COPY_MAP_DATA	19783000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	810788
+SHUFFLE	COMPRESS_BYTE_COUNT	810792
+SHUFFLE	COPY_MAP_DATA	1100976000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	791431
+SHUFFLE	COMPRESS_BYTE_COUNT	791435
+SHUFFLE	COPY_MAP_DATA	109147000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	939002
+SHUFFLE	COMPRESS_BYTE_COUNT	939006
+SHUFFLE	COPY_MAP_DATA	17706000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	733920
+SHUFFLE	COMPRESS_BYTE_COUNT	733924
+SHUFFLE	COPY_MAP_DATA	17930000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	850045
+SHUFFLE	COMPRESS_BYTE_COUNT	850049
+SHUFFLE	COPY_MAP_DATA	2861292000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	853500
+SHUFFLE	COMPRESS_BYTE_COUNT	853504
+SHUFFLE	COPY_MAP_DATA	17625000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	787815
+SHUFFLE	COMPRESS_BYTE_COUNT	787819
+SHUFFLE	COPY_MAP_DATA	552413000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	825106
+SHUFFLE	COMPRESS_BYTE_COUNT	825110
+SHUFFLE	COPY_MAP_DATA	210881000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	835070
+SHUFFLE	COMPRESS_BYTE_COUNT	835074
+SHUFFLE	COPY_MAP_DATA	248339000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	940096
+SHUFFLE	COMPRESS_BYTE_COUNT	940100
+SHUFFLE	COPY_MAP_DATA	20937000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	748570
+SHUFFLE	COMPRESS_BYTE_COUNT	748574
+SHUFFLE	COPY_MAP_DATA	9649000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	955170
+SHUFFLE	COMPRESS_BYTE_COUNT	955174
+SHUFFLE	COPY_MAP_DATA	1196593000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	749808
+SHUFFLE	COMPRESS_BYTE_COUNT	749812
+SHUFFLE	COPY_MAP_DATA	214805000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	755947
+SHUFFLE	COMPRESS_BYTE_COUNT	755951
+SHUFFLE	COPY_MAP_DATA	15946000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	819530
+SHUFFLE	COMPRESS_BYTE_COUNT	819534
+SHUFFLE	COPY_MAP_DATA	419979000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	838576
+SHUFFLE	COMPRESS_BYTE_COUNT	838580
+SHUFFLE	COPY_MAP_DATA	158427000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	777564
+SHUFFLE	COMPRESS_BYTE_COUNT	777568
+SHUFFLE	COPY_MAP_DATA	88885000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	929460
+SHUFFLE	COMPRESS_BYTE_COUNT	929464
+SHUFFLE	COPY_MAP_DATA	44751000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	734399
+SHUFFLE	COMPRESS_BYTE_COUNT	734403
+SHUFFLE	COPY_MAP_DATA	117408000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	761901
+SHUFFLE	COMPRESS_BYTE_COUNT	761905
+SHUFFLE	COPY_MAP_DATA	78113000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	765710
+SHUFFLE	COMPRESS_BYTE_COUNT	765714
+SHUFFLE	COPY_MAP_DATA	116482000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	862938
+SHUFFLE	COMPRESS_BYTE_COUNT	862942
+SHUFFLE	COPY_MAP_DATA	72126000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	742401
+SHUFFLE	COMPRESS_BYTE_COUNT	742405
+SHUFFLE	COPY_MAP_DATA	15419000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	854125
+SHUFFLE	COMPRESS_BYTE_COUNT	854129
+SHUFFLE	COPY_MAP_DATA	419204000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	768551
+SHUFFLE	COMPRESS_BYTE_COUNT	768555
+SHUFFLE	COPY_MAP_DATA	16379000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	901015
+SHUFFLE	COMPRESS_BYTE_COUNT	901019
+SHUFFLE	COPY_MAP_DATA	222545000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	731212
+SHUFFLE	COMPRESS_BYTE_COUNT	731216
+SHUFFLE	COPY_MAP_DATA	35456000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1145215
+SHUFFLE	COMPRESS_BYTE_COUNT	1145219
+SHUFFLE	COPY_MAP_DATA	74205000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	719099
+SHUFFLE	COMPRESS_BYTE_COUNT	719103
+SHUFFLE	COPY_MAP_DATA	603223000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	771996
+SHUFFLE	COMPRESS_BYTE_COUNT	772000
+SHUFFLE	COPY_MAP_DATA	720354000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	807479
+SHUFFLE	COMPRESS_BYTE_COUNT	807483
+SHUFFLE	COPY_MAP_DATA	50719000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	856736
+SHUFFLE	COMPRESS_BYTE_COUNT	856740
+SHUFFLE	COPY_MAP_DATA	101182000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1052075
+SHUFFLE	COMPRESS_BYTE_COUNT	1052079
+SHUFFLE	COPY_MAP_DATA	97771000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	846670
+SHUFFLE	COMPRESS_BYTE_COUNT	846674
+SHUFFLE	COPY_MAP_DATA	117057000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	757449
+SHUFFLE	COMPRESS_BYTE_COUNT	757453
+SHUFFLE	COPY_MAP_DATA	97592000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	806550
+SHUFFLE	COMPRESS_BYTE_COUNT	806554
+SHUFFLE	COPY_MAP_DATA	16849000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1075899
+SHUFFLE	COMPRESS_BYTE_COUNT	1075903
+SHUFFLE	COPY_MAP_DATA	21659000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	768301
+SHUFFLE	COMPRESS_BYTE_COUNT	768305
+SHUFFLE	COPY_MAP_DATA	104028000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	775309
+SHUFFLE	COMPRESS_BYTE_COUNT	775313
+SHUFFLE	COPY_MAP_DATA	1757777000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	748745
+SHUFFLE	COMPRESS_BYTE_COUNT	748749
+SHUFFLE	COPY_MAP_DATA	15178000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	765617
+SHUFFLE	COMPRESS_BYTE_COUNT	765621
+SHUFFLE	COPY_MAP_DATA	15751000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1151871
+SHUFFLE	COMPRESS_BYTE_COUNT	1151875
+SHUFFLE	COPY_MAP_DATA	22823000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	793245
+SHUFFLE	COMPRESS_BYTE_COUNT	793249
+SHUFFLE	COPY_MAP_DATA	18318000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	931206
+SHUFFLE	COMPRESS_BYTE_COUNT	931210
+SHUFFLE	COPY_MAP_DATA	19789000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	875070
+SHUFFLE	COMPRESS_BYTE_COUNT	875074
+SHUFFLE	COPY_MAP_DATA	29795000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	803146
+SHUFFLE	COMPRESS_BYTE_COUNT	803150
+SHUFFLE	COPY_MAP_DATA	602766000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	780771
+SHUFFLE	COMPRESS_BYTE_COUNT	780775
+SHUFFLE	COPY_MAP_DATA	1883776000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	820123
+SHUFFLE	COMPRESS_BYTE_COUNT	820127
+SHUFFLE	COPY_MAP_DATA	15478000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	884356
+SHUFFLE	COMPRESS_BYTE_COUNT	884360
+SHUFFLE	COPY_MAP_DATA	20281000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	778006
+SHUFFLE	COMPRESS_BYTE_COUNT	778010
+SHUFFLE	COPY_MAP_DATA	160950000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	717646
+SHUFFLE	COMPRESS_BYTE_COUNT	717650
+SHUFFLE	COPY_MAP_DATA	614239000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	782946
+SHUFFLE	COMPRESS_BYTE_COUNT	782950
+SHUFFLE	COPY_MAP_DATA	14141000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	888953
+SHUFFLE	COMPRESS_BYTE_COUNT	888957
+SHUFFLE	COPY_MAP_DATA	683108000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	847237
+SHUFFLE	COMPRESS_BYTE_COUNT	847241
+SHUFFLE	COPY_MAP_DATA	18345000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	712914
+SHUFFLE	COMPRESS_BYTE_COUNT	712918
+SHUFFLE	COPY_MAP_DATA	167988000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	814189
+SHUFFLE	COMPRESS_BYTE_COUNT	814193
+SHUFFLE	COPY_MAP_DATA	16002000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	833436
+SHUFFLE	COMPRESS_BYTE_COUNT	833440
+SHUFFLE	COPY_MAP_DATA	1281938000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1052480
+SHUFFLE	COMPRESS_BYTE_COUNT	1052484
+SHUFFLE	COPY_MAP_DATA	1012987000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	946061
+SHUFFLE	COMPRESS_BYTE_COUNT	946065
+SHUFFLE	COPY_MAP_DATA	94522000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	797070
+SHUFFLE	COMPRESS_BYTE_COUNT	797074
+SHUFFLE	COPY_MAP_DATA	26678000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	763966
+SHUFFLE	COMPRESS_BYTE_COUNT	763970
+SHUFFLE	COPY_MAP_DATA	19151000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	717646
+SHUFFLE	COMPRESS_BYTE_COUNT	717650
+SHUFFLE	COPY_MAP_DATA	20071000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	762539
+SHUFFLE	COMPRESS_BYTE_COUNT	762543
+SHUFFLE	COPY_MAP_DATA	41343000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	843098
+SHUFFLE	COMPRESS_BYTE_COUNT	843102
+SHUFFLE	COPY_MAP_DATA	15786000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	820245
+SHUFFLE	COMPRESS_BYTE_COUNT	820249
+SHUFFLE	COPY_MAP_DATA	18779000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	841365
+SHUFFLE	COMPRESS_BYTE_COUNT	841369
+SHUFFLE	COPY_MAP_DATA	195195000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	822213
+SHUFFLE	COMPRESS_BYTE_COUNT	822217
+SHUFFLE	COPY_MAP_DATA	518440000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	807200
+SHUFFLE	COMPRESS_BYTE_COUNT	807204
+SHUFFLE	COPY_MAP_DATA	668486000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	790934
+SHUFFLE	COMPRESS_BYTE_COUNT	790938
+SHUFFLE	COPY_MAP_DATA	19902000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1010268
+SHUFFLE	COMPRESS_BYTE_COUNT	1010272
+SHUFFLE	COPY_MAP_DATA	29273000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	773187
+SHUFFLE	COMPRESS_BYTE_COUNT	773191
+SHUFFLE	COPY_MAP_DATA	19617000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	756919
+SHUFFLE	COMPRESS_BYTE_COUNT	756923
+SHUFFLE	COPY_MAP_DATA	17530000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	861369
+SHUFFLE	COMPRESS_BYTE_COUNT	861373
+SHUFFLE	COPY_MAP_DATA	13491000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	747178
+SHUFFLE	COMPRESS_BYTE_COUNT	747182
+SHUFFLE	COPY_MAP_DATA	15775000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	734396
+SHUFFLE	COMPRESS_BYTE_COUNT	734400
+SHUFFLE	COPY_MAP_DATA	32540000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	800597
+SHUFFLE	COMPRESS_BYTE_COUNT	800601
+SHUFFLE	COPY_MAP_DATA	15461000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	806576
+SHUFFLE	COMPRESS_BYTE_COUNT	806580
+SHUFFLE	COPY_MAP_DATA	16002000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	689081
+SHUFFLE	COMPRESS_BYTE_COUNT	689085
+SHUFFLE	COPY_MAP_DATA	36313000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	789914
+SHUFFLE	COMPRESS_BYTE_COUNT	789918
+SHUFFLE	COPY_MAP_DATA	37042000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	786652
+SHUFFLE	COMPRESS_BYTE_COUNT	786656
+SHUFFLE	COPY_MAP_DATA	18716000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	826124
+SHUFFLE	COMPRESS_BYTE_COUNT	826128
+SHUFFLE	COPY_MAP_DATA	13935000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	813325
+SHUFFLE	COMPRESS_BYTE_COUNT	813329
+SHUFFLE	COPY_MAP_DATA	14610000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	737726
+SHUFFLE	COMPRESS_BYTE_COUNT	737730
+SHUFFLE	COPY_MAP_DATA	13285000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	633532
+SHUFFLE	COMPRESS_BYTE_COUNT	633536
+SHUFFLE	COPY_MAP_DATA	829744000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1301068
+SHUFFLE	COMPRESS_BYTE_COUNT	1301072
+SHUFFLE	COPY_MAP_DATA	21166000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	928841
+SHUFFLE	COMPRESS_BYTE_COUNT	928845
+SHUFFLE	COPY_MAP_DATA	58827000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	961080
+SHUFFLE	COMPRESS_BYTE_COUNT	961084
+SHUFFLE	COPY_MAP_DATA	18443000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	898797
+SHUFFLE	COMPRESS_BYTE_COUNT	898801
+SHUFFLE	COPY_MAP_DATA	16518000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	747896
+SHUFFLE	COMPRESS_BYTE_COUNT	747900
+SHUFFLE	COPY_MAP_DATA	15172000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	101847076837
+MERGE	READ_WRITE	99262153837
+MERGE	READ_WRITE_COUNT	2
+MERGE	COMBINE	0
+MERGE	WRITE	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	15271228000
+SORT	READ_WRITE	15132338000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	146988400
+REDUCE	SETUP	374000
+REDUCE	SETUP_MEM	146988400
+REDUCE	CLEANUP	44000
+REDUCE	CLEANUP_MEM	117985880
+REDUCE	TOTAL_RUN	102388494000
+REDUCE	READ	7848229000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	88369446000
+REDUCE	WRITE	35785642000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	70334052
+REDUCE	VALUE_BYTE_COUNT	63945564
+REDUCE	REDUCE_MEM	117985880
+REDUCE	WRITE	120889000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	647292839837
@@ -0,0 +1,1333 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1897827
+SHUFFLE	COMPRESS_BYTE_COUNT	1897831
+SHUFFLE	COPY_MAP_DATA	68978000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1924246
+SHUFFLE	COMPRESS_BYTE_COUNT	1924250
+SHUFFLE	COPY_MAP_DATA	39043000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1817356
+SHUFFLE	COMPRESS_BYTE_COUNT	1817360
+SHUFFLE	COPY_MAP_DATA	101974000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1953237
+SHUFFLE	COMPRESS_BYTE_COUNT	1953241
+SHUFFLE	COPY_MAP_DATA	17869000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1884612
+SHUFFLE	COMPRESS_BYTE_COUNT	1884616
+SHUFFLE	COPY_MAP_DATA	36385000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1787445
+SHUFFLE	COMPRESS_BYTE_COUNT	1787449
+SHUFFLE	COPY_MAP_DATA	132820000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1676730
+SHUFFLE	COMPRESS_BYTE_COUNT	1676734
+SHUFFLE	COPY_MAP_DATA	162100000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2042660
+SHUFFLE	COMPRESS_BYTE_COUNT	2042664
+SHUFFLE	COPY_MAP_DATA	128935000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1887053
+SHUFFLE	COMPRESS_BYTE_COUNT	1887057
+SHUFFLE	COPY_MAP_DATA	72811000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1955306
+SHUFFLE	COMPRESS_BYTE_COUNT	1955310
+SHUFFLE	COPY_MAP_DATA	29264000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1954173
+SHUFFLE	COMPRESS_BYTE_COUNT	1954177
+SHUFFLE	COPY_MAP_DATA	87063000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1987447
+SHUFFLE	COMPRESS_BYTE_COUNT	1987451
+SHUFFLE	COPY_MAP_DATA	30411000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1949163
+SHUFFLE	COMPRESS_BYTE_COUNT	1949167
+SHUFFLE	COPY_MAP_DATA	38666000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1850704
+SHUFFLE	COMPRESS_BYTE_COUNT	1850708
+SHUFFLE	COPY_MAP_DATA	83914000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1934805
+SHUFFLE	COMPRESS_BYTE_COUNT	1934809
+SHUFFLE	COPY_MAP_DATA	97800000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2031609
+SHUFFLE	COMPRESS_BYTE_COUNT	2031613
+SHUFFLE	COPY_MAP_DATA	17480000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1932323
+SHUFFLE	COMPRESS_BYTE_COUNT	1932327
+SHUFFLE	COPY_MAP_DATA	124358000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1896992
+SHUFFLE	COMPRESS_BYTE_COUNT	1896996
+SHUFFLE	COPY_MAP_DATA	20933000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1937276
+SHUFFLE	COMPRESS_BYTE_COUNT	1937280
+SHUFFLE	COPY_MAP_DATA	32584000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2033553
+SHUFFLE	COMPRESS_BYTE_COUNT	2033557
+SHUFFLE	COPY_MAP_DATA	22662000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1768902
+SHUFFLE	COMPRESS_BYTE_COUNT	1768906
+SHUFFLE	COPY_MAP_DATA	25699000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1885044
+SHUFFLE	COMPRESS_BYTE_COUNT	1885048
+SHUFFLE	COPY_MAP_DATA	38707000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2051803
+SHUFFLE	COMPRESS_BYTE_COUNT	2051807
+SHUFFLE	COPY_MAP_DATA	26261000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1885039
+SHUFFLE	COMPRESS_BYTE_COUNT	1885043
+SHUFFLE	COPY_MAP_DATA	139732000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1828999
+SHUFFLE	COMPRESS_BYTE_COUNT	1829003
+SHUFFLE	COPY_MAP_DATA	22228000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1898017
+SHUFFLE	COMPRESS_BYTE_COUNT	1898021
+SHUFFLE	COPY_MAP_DATA	540929000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1982972
+SHUFFLE	COMPRESS_BYTE_COUNT	1982976
+SHUFFLE	COPY_MAP_DATA	278779000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1962289
+SHUFFLE	COMPRESS_BYTE_COUNT	1962293
+SHUFFLE	COPY_MAP_DATA	234947000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1982016
+SHUFFLE	COMPRESS_BYTE_COUNT	1982020
+SHUFFLE	COPY_MAP_DATA	188395000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1958667
+SHUFFLE	COMPRESS_BYTE_COUNT	1958671
+SHUFFLE	COPY_MAP_DATA	80807000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1811360
+SHUFFLE	COMPRESS_BYTE_COUNT	1811364
+SHUFFLE	COPY_MAP_DATA	1818766000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1919727
+SHUFFLE	COMPRESS_BYTE_COUNT	1919731
+SHUFFLE	COPY_MAP_DATA	5399008000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1767568
+SHUFFLE	COMPRESS_BYTE_COUNT	1767572
+SHUFFLE	COPY_MAP_DATA	288708000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1885672
+SHUFFLE	COMPRESS_BYTE_COUNT	1885676
+SHUFFLE	COPY_MAP_DATA	3340889000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1780145
+SHUFFLE	COMPRESS_BYTE_COUNT	1780149
+SHUFFLE	COPY_MAP_DATA	136823000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1718207
+SHUFFLE	COMPRESS_BYTE_COUNT	1718211
+SHUFFLE	COPY_MAP_DATA	232129000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2029821
+SHUFFLE	COMPRESS_BYTE_COUNT	2029825
+SHUFFLE	COPY_MAP_DATA	269677000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1812161
+SHUFFLE	COMPRESS_BYTE_COUNT	1812165
+SHUFFLE	COPY_MAP_DATA	421548000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1933474
+SHUFFLE	COMPRESS_BYTE_COUNT	1933478
+SHUFFLE	COPY_MAP_DATA	45182000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1798100
+SHUFFLE	COMPRESS_BYTE_COUNT	1798104
+SHUFFLE	COPY_MAP_DATA	60886000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1573946
+SHUFFLE	COMPRESS_BYTE_COUNT	1573950
+SHUFFLE	COPY_MAP_DATA	85038000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1854108
+SHUFFLE	COMPRESS_BYTE_COUNT	1854112
+SHUFFLE	COPY_MAP_DATA	259183000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1620418
+SHUFFLE	COMPRESS_BYTE_COUNT	1620422
+SHUFFLE	COPY_MAP_DATA	488654000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1921475
+SHUFFLE	COMPRESS_BYTE_COUNT	1921479
+SHUFFLE	COPY_MAP_DATA	587160000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1809291
+SHUFFLE	COMPRESS_BYTE_COUNT	1809295
+SHUFFLE	COPY_MAP_DATA	294267000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1800417
+SHUFFLE	COMPRESS_BYTE_COUNT	1800421
+SHUFFLE	COPY_MAP_DATA	1111130000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1773998
+SHUFFLE	COMPRESS_BYTE_COUNT	1774002
+SHUFFLE	COPY_MAP_DATA	36837000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1891533
+SHUFFLE	COMPRESS_BYTE_COUNT	1891537
+SHUFFLE	COPY_MAP_DATA	631838000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1731737
+SHUFFLE	COMPRESS_BYTE_COUNT	1731741
+SHUFFLE	COPY_MAP_DATA	251989000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1718936
+SHUFFLE	COMPRESS_BYTE_COUNT	1718940
+SHUFFLE	COPY_MAP_DATA	54492000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1530082
+SHUFFLE	COMPRESS_BYTE_COUNT	1530086
+SHUFFLE	COPY_MAP_DATA	20542000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1724462
+SHUFFLE	COMPRESS_BYTE_COUNT	1724466
+SHUFFLE	COPY_MAP_DATA	14033000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	3410303
+SHUFFLE	COMPRESS_BYTE_COUNT	3410307
+SHUFFLE	COPY_MAP_DATA	92413000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1689826
+SHUFFLE	COMPRESS_BYTE_COUNT	1689830
+SHUFFLE	COPY_MAP_DATA	32843000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1638630
+SHUFFLE	COMPRESS_BYTE_COUNT	1638634
+SHUFFLE	COPY_MAP_DATA	24931000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1784098
+SHUFFLE	COMPRESS_BYTE_COUNT	1784102
+SHUFFLE	COPY_MAP_DATA	48754000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1802133
+SHUFFLE	COMPRESS_BYTE_COUNT	1802137
+SHUFFLE	COPY_MAP_DATA	2472594000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1882934
+SHUFFLE	COMPRESS_BYTE_COUNT	1882938
+SHUFFLE	COPY_MAP_DATA	34573000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1748599
+SHUFFLE	COMPRESS_BYTE_COUNT	1748603
+SHUFFLE	COPY_MAP_DATA	44965000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1691571
+SHUFFLE	COMPRESS_BYTE_COUNT	1691575
+SHUFFLE	COPY_MAP_DATA	93613000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1707036
+SHUFFLE	COMPRESS_BYTE_COUNT	1707040
+SHUFFLE	COPY_MAP_DATA	115467000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1906474
+SHUFFLE	COMPRESS_BYTE_COUNT	1906478
+SHUFFLE	COPY_MAP_DATA	112123000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1575845
+SHUFFLE	COMPRESS_BYTE_COUNT	1575849
+SHUFFLE	COPY_MAP_DATA	1775952000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1587481
+SHUFFLE	COMPRESS_BYTE_COUNT	1587485
+SHUFFLE	COPY_MAP_DATA	34554000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1639131
+SHUFFLE	COMPRESS_BYTE_COUNT	1639135
+SHUFFLE	COPY_MAP_DATA	24948000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1620770
+SHUFFLE	COMPRESS_BYTE_COUNT	1620774
+SHUFFLE	COPY_MAP_DATA	349520000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1612377
+SHUFFLE	COMPRESS_BYTE_COUNT	1612381
+SHUFFLE	COPY_MAP_DATA	25556000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1642167
+SHUFFLE	COMPRESS_BYTE_COUNT	1642171
+SHUFFLE	COPY_MAP_DATA	88167000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1923406
+SHUFFLE	COMPRESS_BYTE_COUNT	1923410
+SHUFFLE	COPY_MAP_DATA	48807000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1619465
+SHUFFLE	COMPRESS_BYTE_COUNT	1619469
+SHUFFLE	COPY_MAP_DATA	20347000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1600165
+SHUFFLE	COMPRESS_BYTE_COUNT	1600169
+SHUFFLE	COPY_MAP_DATA	191456000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1603214
+SHUFFLE	COMPRESS_BYTE_COUNT	1603218
+SHUFFLE	COPY_MAP_DATA	10844709000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1611905
+SHUFFLE	COMPRESS_BYTE_COUNT	1611909
+SHUFFLE	COPY_MAP_DATA	113872000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1868913
+SHUFFLE	COMPRESS_BYTE_COUNT	1868917
+SHUFFLE	COPY_MAP_DATA	75224000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1620290
+SHUFFLE	COMPRESS_BYTE_COUNT	1620294
+SHUFFLE	COPY_MAP_DATA	253510000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1546381
+SHUFFLE	COMPRESS_BYTE_COUNT	1546385
+SHUFFLE	COPY_MAP_DATA	20730000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1657167
+SHUFFLE	COMPRESS_BYTE_COUNT	1657171
+SHUFFLE	COPY_MAP_DATA	31986000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1784764
+SHUFFLE	COMPRESS_BYTE_COUNT	1784768
+SHUFFLE	COPY_MAP_DATA	124295000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1489605
+SHUFFLE	COMPRESS_BYTE_COUNT	1489609
+SHUFFLE	COPY_MAP_DATA	2645455000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1815663
+SHUFFLE	COMPRESS_BYTE_COUNT	1815667
+SHUFFLE	COPY_MAP_DATA	5003935000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1636372
+SHUFFLE	COMPRESS_BYTE_COUNT	1636376
+SHUFFLE	COPY_MAP_DATA	800676000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1678101
+SHUFFLE	COMPRESS_BYTE_COUNT	1678105
+SHUFFLE	COPY_MAP_DATA	2755229000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1564052
+SHUFFLE	COMPRESS_BYTE_COUNT	1564056
+SHUFFLE	COPY_MAP_DATA	23499000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1673065
+SHUFFLE	COMPRESS_BYTE_COUNT	1673069
+SHUFFLE	COPY_MAP_DATA	24924000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1595787
+SHUFFLE	COMPRESS_BYTE_COUNT	1595791
+SHUFFLE	COPY_MAP_DATA	26782000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2066278
+SHUFFLE	COMPRESS_BYTE_COUNT	2066282
+SHUFFLE	COPY_MAP_DATA	20982000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1493088
+SHUFFLE	COMPRESS_BYTE_COUNT	1493092
+SHUFFLE	COPY_MAP_DATA	3432054000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1530040
+SHUFFLE	COMPRESS_BYTE_COUNT	1530044
+SHUFFLE	COPY_MAP_DATA	200840000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	814605
+SHUFFLE	COMPRESS_BYTE_COUNT	814609
+SHUFFLE	COPY_MAP_DATA	27731000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1729718
+SHUFFLE	COMPRESS_BYTE_COUNT	1729722
+SHUFFLE	COPY_MAP_DATA	24253000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	952048
+SHUFFLE	COMPRESS_BYTE_COUNT	952052
+SHUFFLE	COPY_MAP_DATA	15032104000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1778711
+SHUFFLE	COMPRESS_BYTE_COUNT	1778715
+SHUFFLE	COPY_MAP_DATA	6759267000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	862127
+SHUFFLE	COMPRESS_BYTE_COUNT	862131
+SHUFFLE	COPY_MAP_DATA	2815276000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1637617
+SHUFFLE	COMPRESS_BYTE_COUNT	1637621
+SHUFFLE	COPY_MAP_DATA	105468000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1003604
+SHUFFLE	COMPRESS_BYTE_COUNT	1003608
+SHUFFLE	COPY_MAP_DATA	24111000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1697835
+SHUFFLE	COMPRESS_BYTE_COUNT	1697839
+SHUFFLE	COPY_MAP_DATA	31033000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1692751
+SHUFFLE	COMPRESS_BYTE_COUNT	1692755
+SHUFFLE	COPY_MAP_DATA	226543000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	898658
+SHUFFLE	COMPRESS_BYTE_COUNT	898662
+SHUFFLE	COPY_MAP_DATA	189703000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1465881
+SHUFFLE	COMPRESS_BYTE_COUNT	1465885
+SHUFFLE	COPY_MAP_DATA	26717000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1783749
+SHUFFLE	COMPRESS_BYTE_COUNT	1783753
+SHUFFLE	COPY_MAP_DATA	25744000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1622454
+SHUFFLE	COMPRESS_BYTE_COUNT	1622458
+SHUFFLE	COPY_MAP_DATA	407395000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1009657
+SHUFFLE	COMPRESS_BYTE_COUNT	1009661
+SHUFFLE	COPY_MAP_DATA	44712000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1781210
+SHUFFLE	COMPRESS_BYTE_COUNT	1781214
+SHUFFLE	COPY_MAP_DATA	26800000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1057459
+SHUFFLE	COMPRESS_BYTE_COUNT	1057463
+SHUFFLE	COPY_MAP_DATA	157718000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1718956
+SHUFFLE	COMPRESS_BYTE_COUNT	1718960
+SHUFFLE	COPY_MAP_DATA	39630000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	950801
+SHUFFLE	COMPRESS_BYTE_COUNT	950805
+SHUFFLE	COPY_MAP_DATA	19052000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1415765
+SHUFFLE	COMPRESS_BYTE_COUNT	1415769
+SHUFFLE	COPY_MAP_DATA	29485000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1716220
+SHUFFLE	COMPRESS_BYTE_COUNT	1716224
+SHUFFLE	COPY_MAP_DATA	24702000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1014640
+SHUFFLE	COMPRESS_BYTE_COUNT	1014644
+SHUFFLE	COPY_MAP_DATA	627262000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1616846
+SHUFFLE	COMPRESS_BYTE_COUNT	1616850
+SHUFFLE	COPY_MAP_DATA	26291000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1478398
+SHUFFLE	COMPRESS_BYTE_COUNT	1478402
+SHUFFLE	COPY_MAP_DATA	216920000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1627189
+SHUFFLE	COMPRESS_BYTE_COUNT	1627193
+SHUFFLE	COPY_MAP_DATA	23611000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	968629
+SHUFFLE	COMPRESS_BYTE_COUNT	968633
+SHUFFLE	COPY_MAP_DATA	90677000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1707140
+SHUFFLE	COMPRESS_BYTE_COUNT	1707144
+SHUFFLE	COPY_MAP_DATA	22008000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1011490
+SHUFFLE	COMPRESS_BYTE_COUNT	1011494
+SHUFFLE	COPY_MAP_DATA	30564000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1920725
+SHUFFLE	COMPRESS_BYTE_COUNT	1920729
+SHUFFLE	COPY_MAP_DATA	202516000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	929990
+SHUFFLE	COMPRESS_BYTE_COUNT	929994
+SHUFFLE	COPY_MAP_DATA	19915000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1018915
+SHUFFLE	COMPRESS_BYTE_COUNT	1018919
+SHUFFLE	COPY_MAP_DATA	21813000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1629540
+SHUFFLE	COMPRESS_BYTE_COUNT	1629544
+SHUFFLE	COPY_MAP_DATA	825517000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1602115
+SHUFFLE	COMPRESS_BYTE_COUNT	1602119
+SHUFFLE	COPY_MAP_DATA	13343000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	972595
+SHUFFLE	COMPRESS_BYTE_COUNT	972599
+SHUFFLE	COPY_MAP_DATA	21729000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	950866
+SHUFFLE	COMPRESS_BYTE_COUNT	950870
+SHUFFLE	COPY_MAP_DATA	53123000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	964287
+SHUFFLE	COMPRESS_BYTE_COUNT	964291
+SHUFFLE	COPY_MAP_DATA	467416000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1000817
+SHUFFLE	COMPRESS_BYTE_COUNT	1000821
+SHUFFLE	COPY_MAP_DATA	24709000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	825397
+SHUFFLE	COMPRESS_BYTE_COUNT	825401
+SHUFFLE	COPY_MAP_DATA	31486000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1017731
+SHUFFLE	COMPRESS_BYTE_COUNT	1017735
+SHUFFLE	COPY_MAP_DATA	25363000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	921688
+SHUFFLE	COMPRESS_BYTE_COUNT	921692
+SHUFFLE	COPY_MAP_DATA	46030000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	949012
+SHUFFLE	COMPRESS_BYTE_COUNT	949016
+SHUFFLE	COPY_MAP_DATA	274031000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	959634
+SHUFFLE	COMPRESS_BYTE_COUNT	959638
+SHUFFLE	COPY_MAP_DATA	35478000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	963358
+SHUFFLE	COMPRESS_BYTE_COUNT	963362
+SHUFFLE	COPY_MAP_DATA	3114565000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	961092
+SHUFFLE	COMPRESS_BYTE_COUNT	961096
+SHUFFLE	COPY_MAP_DATA	18368000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	931084
+SHUFFLE	COMPRESS_BYTE_COUNT	931088
+SHUFFLE	COPY_MAP_DATA	17915000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	995915
+SHUFFLE	COMPRESS_BYTE_COUNT	995919
+SHUFFLE	COPY_MAP_DATA	19746000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	977648
+SHUFFLE	COMPRESS_BYTE_COUNT	977652
+SHUFFLE	COPY_MAP_DATA	1605151000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	958260
+SHUFFLE	COMPRESS_BYTE_COUNT	958264
+SHUFFLE	COPY_MAP_DATA	146764000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	986679
+SHUFFLE	COMPRESS_BYTE_COUNT	986683
+SHUFFLE	COPY_MAP_DATA	67269000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	946600
+SHUFFLE	COMPRESS_BYTE_COUNT	946604
+SHUFFLE	COPY_MAP_DATA	703787000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1009714
+SHUFFLE	COMPRESS_BYTE_COUNT	1009718
+SHUFFLE	COPY_MAP_DATA	26964000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1613199
+SHUFFLE	COMPRESS_BYTE_COUNT	1613203
+SHUFFLE	COPY_MAP_DATA	13027609000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	969131
+SHUFFLE	COMPRESS_BYTE_COUNT	969135
+SHUFFLE	COPY_MAP_DATA	29653000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1002373
+SHUFFLE	COMPRESS_BYTE_COUNT	1002377
+SHUFFLE	COPY_MAP_DATA	33005000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	958637
+SHUFFLE	COMPRESS_BYTE_COUNT	958641
+SHUFFLE	COPY_MAP_DATA	66880000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1050988
+SHUFFLE	COMPRESS_BYTE_COUNT	1050992
+SHUFFLE	COPY_MAP_DATA	26219000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	952286
+SHUFFLE	COMPRESS_BYTE_COUNT	952290
+SHUFFLE	COPY_MAP_DATA	620567000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	974152
+SHUFFLE	COMPRESS_BYTE_COUNT	974156
+SHUFFLE	COPY_MAP_DATA	587915000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	986417
+SHUFFLE	COMPRESS_BYTE_COUNT	986421
+SHUFFLE	COPY_MAP_DATA	507545000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	973260
+SHUFFLE	COMPRESS_BYTE_COUNT	973264
+SHUFFLE	COPY_MAP_DATA	25659000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	944066
+SHUFFLE	COMPRESS_BYTE_COUNT	944070
+SHUFFLE	COPY_MAP_DATA	16101000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	938131
+SHUFFLE	COMPRESS_BYTE_COUNT	938135
+SHUFFLE	COPY_MAP_DATA	8977000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	980034
+SHUFFLE	COMPRESS_BYTE_COUNT	980038
+SHUFFLE	COPY_MAP_DATA	17954000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1071977
+SHUFFLE	COMPRESS_BYTE_COUNT	1071981
+SHUFFLE	COPY_MAP_DATA	19621000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	927606
+SHUFFLE	COMPRESS_BYTE_COUNT	927610
+SHUFFLE	COPY_MAP_DATA	204393000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	929228
+SHUFFLE	COMPRESS_BYTE_COUNT	929232
+SHUFFLE	COPY_MAP_DATA	20399000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	993212
+SHUFFLE	COMPRESS_BYTE_COUNT	993216
+SHUFFLE	COPY_MAP_DATA	19429000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	925234
+SHUFFLE	COMPRESS_BYTE_COUNT	925238
+SHUFFLE	COPY_MAP_DATA	19129000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1035694
+SHUFFLE	COMPRESS_BYTE_COUNT	1035698
+SHUFFLE	COPY_MAP_DATA	19371000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	924822
+SHUFFLE	COMPRESS_BYTE_COUNT	924826
+SHUFFLE	COPY_MAP_DATA	57277000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	969388
+SHUFFLE	COMPRESS_BYTE_COUNT	969392
+SHUFFLE	COPY_MAP_DATA	291665000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	949642
+SHUFFLE	COMPRESS_BYTE_COUNT	949646
+SHUFFLE	COPY_MAP_DATA	707192000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	948924
+SHUFFLE	COMPRESS_BYTE_COUNT	948928
+SHUFFLE	COPY_MAP_DATA	158405000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	938573
+SHUFFLE	COMPRESS_BYTE_COUNT	938577
+SHUFFLE	COPY_MAP_DATA	19292000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1978941
+SHUFFLE	COMPRESS_BYTE_COUNT	1978945
+SHUFFLE	COPY_MAP_DATA	58759000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	951534
+SHUFFLE	COMPRESS_BYTE_COUNT	951538
+SHUFFLE	COPY_MAP_DATA	195687000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	983834
+SHUFFLE	COMPRESS_BYTE_COUNT	983838
+SHUFFLE	COPY_MAP_DATA	39692000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	969420
+SHUFFLE	COMPRESS_BYTE_COUNT	969424
+SHUFFLE	COPY_MAP_DATA	382794000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	952057
+SHUFFLE	COMPRESS_BYTE_COUNT	952061
+SHUFFLE	COPY_MAP_DATA	18103000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	994129
+SHUFFLE	COMPRESS_BYTE_COUNT	994133
+SHUFFLE	COPY_MAP_DATA	123917000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	912369
+SHUFFLE	COMPRESS_BYTE_COUNT	912373
+SHUFFLE	COPY_MAP_DATA	13081000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	966935
+SHUFFLE	COMPRESS_BYTE_COUNT	966939
+SHUFFLE	COPY_MAP_DATA	15298000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	888130
+SHUFFLE	COMPRESS_BYTE_COUNT	888134
+SHUFFLE	COPY_MAP_DATA	45885000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	958173
+SHUFFLE	COMPRESS_BYTE_COUNT	958177
+SHUFFLE	COPY_MAP_DATA	46475000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	960852
+SHUFFLE	COMPRESS_BYTE_COUNT	960856
+SHUFFLE	COPY_MAP_DATA	42471000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	933080
+SHUFFLE	COMPRESS_BYTE_COUNT	933084
+SHUFFLE	COPY_MAP_DATA	10347000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	946407
+SHUFFLE	COMPRESS_BYTE_COUNT	946411
+SHUFFLE	COPY_MAP_DATA	24782000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	896805
+SHUFFLE	COMPRESS_BYTE_COUNT	896809
+SHUFFLE	COPY_MAP_DATA	17473000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	914557
+SHUFFLE	COMPRESS_BYTE_COUNT	914561
+SHUFFLE	COPY_MAP_DATA	15232000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	957067
+SHUFFLE	COMPRESS_BYTE_COUNT	957071
+SHUFFLE	COPY_MAP_DATA	561270000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1056245
+SHUFFLE	COMPRESS_BYTE_COUNT	1056249
+SHUFFLE	COPY_MAP_DATA	20837000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	927974
+SHUFFLE	COMPRESS_BYTE_COUNT	927978
+SHUFFLE	COPY_MAP_DATA	192605000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	907703
+SHUFFLE	COMPRESS_BYTE_COUNT	907707
+SHUFFLE	COPY_MAP_DATA	2279142000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	952962
+SHUFFLE	COMPRESS_BYTE_COUNT	952966
+SHUFFLE	COPY_MAP_DATA	159143000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	907975
+SHUFFLE	COMPRESS_BYTE_COUNT	907979
+SHUFFLE	COPY_MAP_DATA	29872000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	923945
+SHUFFLE	COMPRESS_BYTE_COUNT	923949
+SHUFFLE	COPY_MAP_DATA	18247000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	982521
+SHUFFLE	COMPRESS_BYTE_COUNT	982525
+SHUFFLE	COPY_MAP_DATA	70973000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	860929
+SHUFFLE	COMPRESS_BYTE_COUNT	860933
+SHUFFLE	COPY_MAP_DATA	75608000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	878190
+SHUFFLE	COMPRESS_BYTE_COUNT	878194
+SHUFFLE	COPY_MAP_DATA	21715000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	933499
+SHUFFLE	COMPRESS_BYTE_COUNT	933503
+SHUFFLE	COPY_MAP_DATA	19164000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	890424
+SHUFFLE	COMPRESS_BYTE_COUNT	890428
+SHUFFLE	COPY_MAP_DATA	45601000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	894303
+SHUFFLE	COMPRESS_BYTE_COUNT	894307
+SHUFFLE	COPY_MAP_DATA	94630000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	929345
+SHUFFLE	COMPRESS_BYTE_COUNT	929349
+SHUFFLE	COPY_MAP_DATA	213003000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	869665
+SHUFFLE	COMPRESS_BYTE_COUNT	869669
+SHUFFLE	COPY_MAP_DATA	340020000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	879948
+SHUFFLE	COMPRESS_BYTE_COUNT	879952
+SHUFFLE	COPY_MAP_DATA	66748000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	855201
+SHUFFLE	COMPRESS_BYTE_COUNT	855205
+SHUFFLE	COPY_MAP_DATA	29371000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	919595
+SHUFFLE	COMPRESS_BYTE_COUNT	919599
+SHUFFLE	COPY_MAP_DATA	3549067000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	879697
+SHUFFLE	COMPRESS_BYTE_COUNT	879701
+SHUFFLE	COPY_MAP_DATA	2404257000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	924328
+SHUFFLE	COMPRESS_BYTE_COUNT	924332
+SHUFFLE	COPY_MAP_DATA	103382000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	877776
+SHUFFLE	COMPRESS_BYTE_COUNT	877780
+SHUFFLE	COPY_MAP_DATA	824226000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	886827
+SHUFFLE	COMPRESS_BYTE_COUNT	886831
+SHUFFLE	COPY_MAP_DATA	17021000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	873644
+SHUFFLE	COMPRESS_BYTE_COUNT	873648
+SHUFFLE	COPY_MAP_DATA	30890000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	892026
+SHUFFLE	COMPRESS_BYTE_COUNT	892030
+SHUFFLE	COPY_MAP_DATA	17016000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	920137
+SHUFFLE	COMPRESS_BYTE_COUNT	920141
+SHUFFLE	COPY_MAP_DATA	52724000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	857577
+SHUFFLE	COMPRESS_BYTE_COUNT	857581
+SHUFFLE	COPY_MAP_DATA	183936000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	845046
+SHUFFLE	COMPRESS_BYTE_COUNT	845050
+SHUFFLE	COPY_MAP_DATA	2403992000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	929305
+SHUFFLE	COMPRESS_BYTE_COUNT	929309
+SHUFFLE	COPY_MAP_DATA	106337000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	858044
+SHUFFLE	COMPRESS_BYTE_COUNT	858048
+SHUFFLE	COPY_MAP_DATA	96267000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	819358
+SHUFFLE	COMPRESS_BYTE_COUNT	819362
+SHUFFLE	COPY_MAP_DATA	1487592000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	879418
+SHUFFLE	COMPRESS_BYTE_COUNT	879422
+SHUFFLE	COPY_MAP_DATA	241518000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	866494
+SHUFFLE	COMPRESS_BYTE_COUNT	866498
+SHUFFLE	COPY_MAP_DATA	127571000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	854795
+SHUFFLE	COMPRESS_BYTE_COUNT	854799
+SHUFFLE	COPY_MAP_DATA	125111000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	776518
+SHUFFLE	COMPRESS_BYTE_COUNT	776522
+SHUFFLE	COPY_MAP_DATA	6144320000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	821908
+SHUFFLE	COMPRESS_BYTE_COUNT	821912
+SHUFFLE	COPY_MAP_DATA	16808000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	864603
+SHUFFLE	COMPRESS_BYTE_COUNT	864607
+SHUFFLE	COPY_MAP_DATA	50052000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	860632
+SHUFFLE	COMPRESS_BYTE_COUNT	860636
+SHUFFLE	COPY_MAP_DATA	38046000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	816493
+SHUFFLE	COMPRESS_BYTE_COUNT	816497
+SHUFFLE	COPY_MAP_DATA	17671000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	861774
+SHUFFLE	COMPRESS_BYTE_COUNT	861778
+SHUFFLE	COPY_MAP_DATA	18162000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	826846
+SHUFFLE	COMPRESS_BYTE_COUNT	826850
+SHUFFLE	COPY_MAP_DATA	10889000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	909671
+SHUFFLE	COMPRESS_BYTE_COUNT	909675
+SHUFFLE	COPY_MAP_DATA	1318380000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	828459
+SHUFFLE	COMPRESS_BYTE_COUNT	828463
+SHUFFLE	COPY_MAP_DATA	4750615000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	806154
+SHUFFLE	COMPRESS_BYTE_COUNT	806158
+SHUFFLE	COPY_MAP_DATA	2420907000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	889723
+SHUFFLE	COMPRESS_BYTE_COUNT	889727
+SHUFFLE	COPY_MAP_DATA	468023000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	963341
+SHUFFLE	COMPRESS_BYTE_COUNT	963345
+SHUFFLE	COPY_MAP_DATA	21536000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	845294
+SHUFFLE	COMPRESS_BYTE_COUNT	845298
+SHUFFLE	COPY_MAP_DATA	146460000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	847668
+SHUFFLE	COMPRESS_BYTE_COUNT	847672
+SHUFFLE	COPY_MAP_DATA	159472000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	792756
+SHUFFLE	COMPRESS_BYTE_COUNT	792760
+SHUFFLE	COPY_MAP_DATA	14042000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	867517
+SHUFFLE	COMPRESS_BYTE_COUNT	867521
+SHUFFLE	COPY_MAP_DATA	23402000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	866260
+SHUFFLE	COMPRESS_BYTE_COUNT	866264
+SHUFFLE	COPY_MAP_DATA	46355000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	984920
+SHUFFLE	COMPRESS_BYTE_COUNT	984924
+SHUFFLE	COPY_MAP_DATA	22781000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	820157
+SHUFFLE	COMPRESS_BYTE_COUNT	820161
+SHUFFLE	COPY_MAP_DATA	45516000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	772972
+SHUFFLE	COMPRESS_BYTE_COUNT	772976
+SHUFFLE	COPY_MAP_DATA	9813000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	808681
+SHUFFLE	COMPRESS_BYTE_COUNT	808685
+SHUFFLE	COPY_MAP_DATA	1051563000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	942375
+SHUFFLE	COMPRESS_BYTE_COUNT	942379
+SHUFFLE	COPY_MAP_DATA	1565237000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	865245
+SHUFFLE	COMPRESS_BYTE_COUNT	865249
+SHUFFLE	COPY_MAP_DATA	16102000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	851827
+SHUFFLE	COMPRESS_BYTE_COUNT	851831
+SHUFFLE	COPY_MAP_DATA	19637000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	872696
+SHUFFLE	COMPRESS_BYTE_COUNT	872700
+SHUFFLE	COPY_MAP_DATA	19307000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	843902
+SHUFFLE	COMPRESS_BYTE_COUNT	843906
+SHUFFLE	COPY_MAP_DATA	79708000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	999080
+SHUFFLE	COMPRESS_BYTE_COUNT	999084
+SHUFFLE	COPY_MAP_DATA	18309000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	833488
+SHUFFLE	COMPRESS_BYTE_COUNT	833492
+SHUFFLE	COPY_MAP_DATA	8562000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	837914
+SHUFFLE	COMPRESS_BYTE_COUNT	837918
+SHUFFLE	COPY_MAP_DATA	4889569000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	822311
+SHUFFLE	COMPRESS_BYTE_COUNT	822315
+SHUFFLE	COPY_MAP_DATA	525674000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	826574
+SHUFFLE	COMPRESS_BYTE_COUNT	826578
+SHUFFLE	COPY_MAP_DATA	33713000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	758579
+SHUFFLE	COMPRESS_BYTE_COUNT	758583
+SHUFFLE	COPY_MAP_DATA	60903000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	821540
+SHUFFLE	COMPRESS_BYTE_COUNT	821544
+SHUFFLE	COPY_MAP_DATA	19058000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	912070
+SHUFFLE	COMPRESS_BYTE_COUNT	912074
+SHUFFLE	COPY_MAP_DATA	8640000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	805309
+SHUFFLE	COMPRESS_BYTE_COUNT	805313
+SHUFFLE	COPY_MAP_DATA	4293879000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	773742
+SHUFFLE	COMPRESS_BYTE_COUNT	773746
+SHUFFLE	COPY_MAP_DATA	34088000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1009915
+SHUFFLE	COMPRESS_BYTE_COUNT	1009919
+SHUFFLE	COPY_MAP_DATA	75407000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	786805
+SHUFFLE	COMPRESS_BYTE_COUNT	786809
+SHUFFLE	COPY_MAP_DATA	89099000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	759362
+SHUFFLE	COMPRESS_BYTE_COUNT	759366
+SHUFFLE	COPY_MAP_DATA	9987000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	779045
+SHUFFLE	COMPRESS_BYTE_COUNT	779049
+SHUFFLE	COPY_MAP_DATA	113636000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	789640
+SHUFFLE	COMPRESS_BYTE_COUNT	789644
+SHUFFLE	COPY_MAP_DATA	73382000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	864272
+SHUFFLE	COMPRESS_BYTE_COUNT	864276
+SHUFFLE	COPY_MAP_DATA	335602000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	830595
+SHUFFLE	COMPRESS_BYTE_COUNT	830599
+SHUFFLE	COPY_MAP_DATA	299957000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	755548
+SHUFFLE	COMPRESS_BYTE_COUNT	755552
+SHUFFLE	COPY_MAP_DATA	165917000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	818202
+SHUFFLE	COMPRESS_BYTE_COUNT	818206
+SHUFFLE	COPY_MAP_DATA	70446000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	751039
+SHUFFLE	COMPRESS_BYTE_COUNT	751043
+SHUFFLE	COPY_MAP_DATA	175475000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	801577
+SHUFFLE	COMPRESS_BYTE_COUNT	801581
+SHUFFLE	COPY_MAP_DATA	320213000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	765894
+SHUFFLE	COMPRESS_BYTE_COUNT	765898
+SHUFFLE	COPY_MAP_DATA	148429000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	754590
+SHUFFLE	COMPRESS_BYTE_COUNT	754594
+SHUFFLE	COPY_MAP_DATA	284458000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	812069
+SHUFFLE	COMPRESS_BYTE_COUNT	812073
+SHUFFLE	COPY_MAP_DATA	207726000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	918741
+SHUFFLE	COMPRESS_BYTE_COUNT	918745
+SHUFFLE	COPY_MAP_DATA	19849000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1062761
+SHUFFLE	COMPRESS_BYTE_COUNT	1062765
+SHUFFLE	COPY_MAP_DATA	78820000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1056365
+SHUFFLE	COMPRESS_BYTE_COUNT	1056369
+SHUFFLE	COPY_MAP_DATA	335380000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	849493
+SHUFFLE	COMPRESS_BYTE_COUNT	849497
+SHUFFLE	COPY_MAP_DATA	35470000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	856034
+SHUFFLE	COMPRESS_BYTE_COUNT	856038
+SHUFFLE	COPY_MAP_DATA	918636000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1133504
+SHUFFLE	COMPRESS_BYTE_COUNT	1133508
+SHUFFLE	COPY_MAP_DATA	23015000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	758276
+SHUFFLE	COMPRESS_BYTE_COUNT	758280
+SHUFFLE	COPY_MAP_DATA	411966000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	794177
+SHUFFLE	COMPRESS_BYTE_COUNT	794181
+SHUFFLE	COPY_MAP_DATA	64953000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	769915
+SHUFFLE	COMPRESS_BYTE_COUNT	769919
+SHUFFLE	COPY_MAP_DATA	878202000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	849672
+SHUFFLE	COMPRESS_BYTE_COUNT	849676
+SHUFFLE	COPY_MAP_DATA	108163000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	742677
+SHUFFLE	COMPRESS_BYTE_COUNT	742681
+SHUFFLE	COPY_MAP_DATA	16306000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	791469
+SHUFFLE	COMPRESS_BYTE_COUNT	791473
+SHUFFLE	COPY_MAP_DATA	20386000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	785906
+SHUFFLE	COMPRESS_BYTE_COUNT	785910
+SHUFFLE	COPY_MAP_DATA	7072000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	794139
+SHUFFLE	COMPRESS_BYTE_COUNT	794143
+SHUFFLE	COPY_MAP_DATA	633777000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	775049
+SHUFFLE	COMPRESS_BYTE_COUNT	775053
+SHUFFLE	COPY_MAP_DATA	32901000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	847666
+SHUFFLE	COMPRESS_BYTE_COUNT	847670
+SHUFFLE	COPY_MAP_DATA	16669000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	842766
+SHUFFLE	COMPRESS_BYTE_COUNT	842770
+SHUFFLE	COPY_MAP_DATA	179693000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	762253
+SHUFFLE	COMPRESS_BYTE_COUNT	762257
+SHUFFLE	COPY_MAP_DATA	38184000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	813587
+SHUFFLE	COMPRESS_BYTE_COUNT	813591
+SHUFFLE	COPY_MAP_DATA	9640000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	802105
+SHUFFLE	COMPRESS_BYTE_COUNT	802109
+SHUFFLE	COPY_MAP_DATA	41698000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	798752
+SHUFFLE	COMPRESS_BYTE_COUNT	798756
+SHUFFLE	COPY_MAP_DATA	30067000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	951294
+SHUFFLE	COMPRESS_BYTE_COUNT	951298
+SHUFFLE	COPY_MAP_DATA	20881000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	792266
+SHUFFLE	COMPRESS_BYTE_COUNT	792270
+SHUFFLE	COPY_MAP_DATA	1970565000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	819641
+SHUFFLE	COMPRESS_BYTE_COUNT	819645
+SHUFFLE	COPY_MAP_DATA	149199000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	859480
+SHUFFLE	COMPRESS_BYTE_COUNT	859484
+SHUFFLE	COPY_MAP_DATA	578137000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	778281
+SHUFFLE	COMPRESS_BYTE_COUNT	778285
+SHUFFLE	COPY_MAP_DATA	483173000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	799310
+SHUFFLE	COMPRESS_BYTE_COUNT	799314
+SHUFFLE	COPY_MAP_DATA	16809000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	901500
+SHUFFLE	COMPRESS_BYTE_COUNT	901504
+SHUFFLE	COPY_MAP_DATA	66562000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	734314
+SHUFFLE	COMPRESS_BYTE_COUNT	734318
+SHUFFLE	COPY_MAP_DATA	20044000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	751664
+SHUFFLE	COMPRESS_BYTE_COUNT	751668
+SHUFFLE	COPY_MAP_DATA	67125000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	859476
+SHUFFLE	COMPRESS_BYTE_COUNT	859480
+SHUFFLE	COPY_MAP_DATA	309196000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	817147
+SHUFFLE	COMPRESS_BYTE_COUNT	817151
+SHUFFLE	COPY_MAP_DATA	963120000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	782899
+SHUFFLE	COMPRESS_BYTE_COUNT	782903
+SHUFFLE	COPY_MAP_DATA	5956832000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	900163
+SHUFFLE	COMPRESS_BYTE_COUNT	900167
+SHUFFLE	COPY_MAP_DATA	220001000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	723713
+SHUFFLE	COMPRESS_BYTE_COUNT	723717
+SHUFFLE	COPY_MAP_DATA	18173000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	809528
+SHUFFLE	COMPRESS_BYTE_COUNT	809532
+SHUFFLE	COPY_MAP_DATA	26457000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	879343
+SHUFFLE	COMPRESS_BYTE_COUNT	879347
+SHUFFLE	COPY_MAP_DATA	20319000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	849084
+SHUFFLE	COMPRESS_BYTE_COUNT	849088
+SHUFFLE	COPY_MAP_DATA	1968338000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	751664
+SHUFFLE	COMPRESS_BYTE_COUNT	751668
+SHUFFLE	COPY_MAP_DATA	19614000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	778940
+SHUFFLE	COMPRESS_BYTE_COUNT	778944
+SHUFFLE	COPY_MAP_DATA	16539000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	760212
+SHUFFLE	COMPRESS_BYTE_COUNT	760216
+SHUFFLE	COPY_MAP_DATA	7383000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	673090
+SHUFFLE	COMPRESS_BYTE_COUNT	673094
+SHUFFLE	COPY_MAP_DATA	1483176000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	832527
+SHUFFLE	COMPRESS_BYTE_COUNT	832531
+SHUFFLE	COPY_MAP_DATA	66266000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1040616
+SHUFFLE	COMPRESS_BYTE_COUNT	1040620
+SHUFFLE	COPY_MAP_DATA	719760000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	766689
+SHUFFLE	COMPRESS_BYTE_COUNT	766693
+SHUFFLE	COPY_MAP_DATA	711583000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1431364
+SHUFFLE	COMPRESS_BYTE_COUNT	1431368
+SHUFFLE	COPY_MAP_DATA	465085000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	829918
+SHUFFLE	COMPRESS_BYTE_COUNT	829922
+SHUFFLE	COPY_MAP_DATA	8783567000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	767764
+SHUFFLE	COMPRESS_BYTE_COUNT	767768
+SHUFFLE	COPY_MAP_DATA	17087000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	912453
+SHUFFLE	COMPRESS_BYTE_COUNT	912457
+SHUFFLE	COPY_MAP_DATA	202298000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	846643
+SHUFFLE	COMPRESS_BYTE_COUNT	846647
+SHUFFLE	COPY_MAP_DATA	139447000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	751761
+SHUFFLE	COMPRESS_BYTE_COUNT	751765
+SHUFFLE	COPY_MAP_DATA	12847000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	841803
+SHUFFLE	COMPRESS_BYTE_COUNT	841807
+SHUFFLE	COPY_MAP_DATA	164008000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	791253
+SHUFFLE	COMPRESS_BYTE_COUNT	791257
+SHUFFLE	COPY_MAP_DATA	27784000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	817830
+SHUFFLE	COMPRESS_BYTE_COUNT	817834
+SHUFFLE	COPY_MAP_DATA	16451000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	734511
+SHUFFLE	COMPRESS_BYTE_COUNT	734515
+SHUFFLE	COPY_MAP_DATA	1101757000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	804279
+SHUFFLE	COMPRESS_BYTE_COUNT	804283
+SHUFFLE	COPY_MAP_DATA	548006000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	795371
+SHUFFLE	COMPRESS_BYTE_COUNT	795375
+SHUFFLE	COPY_MAP_DATA	14792000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	818795
+SHUFFLE	COMPRESS_BYTE_COUNT	818799
+SHUFFLE	COPY_MAP_DATA	15964000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	686943
+SHUFFLE	COMPRESS_BYTE_COUNT	686947
+SHUFFLE	COPY_MAP_DATA	1286313000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	835428
+SHUFFLE	COMPRESS_BYTE_COUNT	835432
+SHUFFLE	COPY_MAP_DATA	1108778000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	804320
+SHUFFLE	COMPRESS_BYTE_COUNT	804324
+SHUFFLE	COPY_MAP_DATA	15054000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	951224
+SHUFFLE	COMPRESS_BYTE_COUNT	951228
+SHUFFLE	COPY_MAP_DATA	19835000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	718188
+SHUFFLE	COMPRESS_BYTE_COUNT	718192
+SHUFFLE	COPY_MAP_DATA	9141000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	936964
+SHUFFLE	COMPRESS_BYTE_COUNT	936968
+SHUFFLE	COPY_MAP_DATA	18522000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	935807
+SHUFFLE	COMPRESS_BYTE_COUNT	935811
+SHUFFLE	COPY_MAP_DATA	32495000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	866550
+SHUFFLE	COMPRESS_BYTE_COUNT	866554
+SHUFFLE	COPY_MAP_DATA	18765000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	798732
+SHUFFLE	COMPRESS_BYTE_COUNT	798736
+SHUFFLE	COPY_MAP_DATA	12097000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	122226534000
+MERGE	READ_WRITE	119561016000
+MERGE	READ_WRITE_COUNT	2
+MERGE	COMBINE	0
+MERGE	WRITE	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	16793750000
+SORT	READ_WRITE	16636712000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	160456592
+REDUCE	SETUP	366000
+REDUCE	SETUP_MEM	160456592
+REDUCE	CLEANUP	37000
+REDUCE	CLEANUP_MEM	155425216
+REDUCE	TOTAL_RUN	112049194000
+REDUCE	READ	9657231000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	95849676000
+REDUCE	WRITE	32192892000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	72404837
+REDUCE	VALUE_BYTE_COUNT	66077643
+REDUCE	REDUCE_MEM	155425216
+REDUCE	WRITE	296124000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	662166320000
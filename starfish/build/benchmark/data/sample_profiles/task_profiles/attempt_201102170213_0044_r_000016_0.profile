@@ -0,0 +1,1333 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1812225
+SHUFFLE	COMPRESS_BYTE_COUNT	1812229
+SHUFFLE	COPY_MAP_DATA	626170000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1971894
+SHUFFLE	COMPRESS_BYTE_COUNT	1971898
+SHUFFLE	COPY_MAP_DATA	166161000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1975579
+SHUFFLE	COMPRESS_BYTE_COUNT	1975583
+SHUFFLE	COPY_MAP_DATA	644262000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1821548
+SHUFFLE	COMPRESS_BYTE_COUNT	1821552
+SHUFFLE	COPY_MAP_DATA	135392000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2016338
+SHUFFLE	COMPRESS_BYTE_COUNT	2016342
+SHUFFLE	COPY_MAP_DATA	226237000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1963975
+SHUFFLE	COMPRESS_BYTE_COUNT	1963979
+SHUFFLE	COPY_MAP_DATA	33902000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1651692
+SHUFFLE	COMPRESS_BYTE_COUNT	1651696
+SHUFFLE	COPY_MAP_DATA	87611000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1939627
+SHUFFLE	COMPRESS_BYTE_COUNT	1939631
+SHUFFLE	COPY_MAP_DATA	136270000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1918225
+SHUFFLE	COMPRESS_BYTE_COUNT	1918229
+SHUFFLE	COPY_MAP_DATA	177989000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1801042
+SHUFFLE	COMPRESS_BYTE_COUNT	1801046
+SHUFFLE	COPY_MAP_DATA	27003000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1934533
+SHUFFLE	COMPRESS_BYTE_COUNT	1934537
+SHUFFLE	COPY_MAP_DATA	224263000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2009408
+SHUFFLE	COMPRESS_BYTE_COUNT	2009412
+SHUFFLE	COPY_MAP_DATA	250233000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2018852
+SHUFFLE	COMPRESS_BYTE_COUNT	2018856
+SHUFFLE	COPY_MAP_DATA	53239000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1930105
+SHUFFLE	COMPRESS_BYTE_COUNT	1930109
+SHUFFLE	COPY_MAP_DATA	29746000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1985426
+SHUFFLE	COMPRESS_BYTE_COUNT	1985430
+SHUFFLE	COPY_MAP_DATA	71974000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1927199
+SHUFFLE	COMPRESS_BYTE_COUNT	1927203
+SHUFFLE	COPY_MAP_DATA	171566000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1812492
+SHUFFLE	COMPRESS_BYTE_COUNT	1812496
+SHUFFLE	COPY_MAP_DATA	96585000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1978804
+SHUFFLE	COMPRESS_BYTE_COUNT	1978808
+SHUFFLE	COPY_MAP_DATA	83063000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2073234
+SHUFFLE	COMPRESS_BYTE_COUNT	2073238
+SHUFFLE	COPY_MAP_DATA	76558000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1991356
+SHUFFLE	COMPRESS_BYTE_COUNT	1991360
+SHUFFLE	COPY_MAP_DATA	94305000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1963832
+SHUFFLE	COMPRESS_BYTE_COUNT	1963836
+SHUFFLE	COPY_MAP_DATA	24936000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2131616
+SHUFFLE	COMPRESS_BYTE_COUNT	2131620
+SHUFFLE	COPY_MAP_DATA	19085000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1853837
+SHUFFLE	COMPRESS_BYTE_COUNT	1853841
+SHUFFLE	COPY_MAP_DATA	31304000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1924517
+SHUFFLE	COMPRESS_BYTE_COUNT	1924521
+SHUFFLE	COPY_MAP_DATA	317869000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2087201
+SHUFFLE	COMPRESS_BYTE_COUNT	2087205
+SHUFFLE	COPY_MAP_DATA	514638000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2044011
+SHUFFLE	COMPRESS_BYTE_COUNT	2044015
+SHUFFLE	COPY_MAP_DATA	84072000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2002267
+SHUFFLE	COMPRESS_BYTE_COUNT	2002271
+SHUFFLE	COPY_MAP_DATA	58763000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1982087
+SHUFFLE	COMPRESS_BYTE_COUNT	1982091
+SHUFFLE	COPY_MAP_DATA	82269000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1926824
+SHUFFLE	COMPRESS_BYTE_COUNT	1926828
+SHUFFLE	COPY_MAP_DATA	2631326000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2016735
+SHUFFLE	COMPRESS_BYTE_COUNT	2016739
+SHUFFLE	COPY_MAP_DATA	1762028000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1860982
+SHUFFLE	COMPRESS_BYTE_COUNT	1860986
+SHUFFLE	COPY_MAP_DATA	1005739000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1960529
+SHUFFLE	COMPRESS_BYTE_COUNT	1960533
+SHUFFLE	COPY_MAP_DATA	2219577000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1839979
+SHUFFLE	COMPRESS_BYTE_COUNT	1839983
+SHUFFLE	COPY_MAP_DATA	1293754000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1917528
+SHUFFLE	COMPRESS_BYTE_COUNT	1917532
+SHUFFLE	COPY_MAP_DATA	3211774000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1773062
+SHUFFLE	COMPRESS_BYTE_COUNT	1773066
+SHUFFLE	COPY_MAP_DATA	148407000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2004115
+SHUFFLE	COMPRESS_BYTE_COUNT	2004119
+SHUFFLE	COPY_MAP_DATA	833506000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1713245
+SHUFFLE	COMPRESS_BYTE_COUNT	1713249
+SHUFFLE	COPY_MAP_DATA	23082000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1814755
+SHUFFLE	COMPRESS_BYTE_COUNT	1814759
+SHUFFLE	COPY_MAP_DATA	44611000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1660255
+SHUFFLE	COMPRESS_BYTE_COUNT	1660259
+SHUFFLE	COPY_MAP_DATA	38640000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1935311
+SHUFFLE	COMPRESS_BYTE_COUNT	1935315
+SHUFFLE	COPY_MAP_DATA	134348000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1774068
+SHUFFLE	COMPRESS_BYTE_COUNT	1774072
+SHUFFLE	COPY_MAP_DATA	39977000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1849532
+SHUFFLE	COMPRESS_BYTE_COUNT	1849536
+SHUFFLE	COPY_MAP_DATA	164907000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1628583
+SHUFFLE	COMPRESS_BYTE_COUNT	1628587
+SHUFFLE	COPY_MAP_DATA	140635000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1868200
+SHUFFLE	COMPRESS_BYTE_COUNT	1868204
+SHUFFLE	COPY_MAP_DATA	160887000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1941583
+SHUFFLE	COMPRESS_BYTE_COUNT	1941587
+SHUFFLE	COPY_MAP_DATA	55851000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1760524
+SHUFFLE	COMPRESS_BYTE_COUNT	1760528
+SHUFFLE	COPY_MAP_DATA	58620000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1928850
+SHUFFLE	COMPRESS_BYTE_COUNT	1928854
+SHUFFLE	COPY_MAP_DATA	1766130000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1747955
+SHUFFLE	COMPRESS_BYTE_COUNT	1747959
+SHUFFLE	COPY_MAP_DATA	26142000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1819686
+SHUFFLE	COMPRESS_BYTE_COUNT	1819690
+SHUFFLE	COPY_MAP_DATA	28540000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1795985
+SHUFFLE	COMPRESS_BYTE_COUNT	1795989
+SHUFFLE	COPY_MAP_DATA	65733000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1522335
+SHUFFLE	COMPRESS_BYTE_COUNT	1522339
+SHUFFLE	COPY_MAP_DATA	16578000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1781521
+SHUFFLE	COMPRESS_BYTE_COUNT	1781525
+SHUFFLE	COPY_MAP_DATA	146935000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2044769
+SHUFFLE	COMPRESS_BYTE_COUNT	2044773
+SHUFFLE	COPY_MAP_DATA	25942000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1657782
+SHUFFLE	COMPRESS_BYTE_COUNT	1657786
+SHUFFLE	COPY_MAP_DATA	295416000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1817352
+SHUFFLE	COMPRESS_BYTE_COUNT	1817356
+SHUFFLE	COPY_MAP_DATA	2877513000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1631037
+SHUFFLE	COMPRESS_BYTE_COUNT	1631041
+SHUFFLE	COPY_MAP_DATA	28522000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1882351
+SHUFFLE	COMPRESS_BYTE_COUNT	1882355
+SHUFFLE	COPY_MAP_DATA	131140000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1972348
+SHUFFLE	COMPRESS_BYTE_COUNT	1972352
+SHUFFLE	COPY_MAP_DATA	52168000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1724635
+SHUFFLE	COMPRESS_BYTE_COUNT	1724639
+SHUFFLE	COPY_MAP_DATA	129401000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1730164
+SHUFFLE	COMPRESS_BYTE_COUNT	1730168
+SHUFFLE	COPY_MAP_DATA	1688290000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1645802
+SHUFFLE	COMPRESS_BYTE_COUNT	1645806
+SHUFFLE	COPY_MAP_DATA	57106000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1862121
+SHUFFLE	COMPRESS_BYTE_COUNT	1862125
+SHUFFLE	COPY_MAP_DATA	165556000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1878822
+SHUFFLE	COMPRESS_BYTE_COUNT	1878826
+SHUFFLE	COPY_MAP_DATA	177016000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1655465
+SHUFFLE	COMPRESS_BYTE_COUNT	1655469
+SHUFFLE	COPY_MAP_DATA	382330000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1582413
+SHUFFLE	COMPRESS_BYTE_COUNT	1582417
+SHUFFLE	COPY_MAP_DATA	903132000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1619636
+SHUFFLE	COMPRESS_BYTE_COUNT	1619640
+SHUFFLE	COPY_MAP_DATA	29184000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1595509
+SHUFFLE	COMPRESS_BYTE_COUNT	1595513
+SHUFFLE	COPY_MAP_DATA	1256580000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1661515
+SHUFFLE	COMPRESS_BYTE_COUNT	1661519
+SHUFFLE	COPY_MAP_DATA	29825000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1612532
+SHUFFLE	COMPRESS_BYTE_COUNT	1612536
+SHUFFLE	COPY_MAP_DATA	146320000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1646775
+SHUFFLE	COMPRESS_BYTE_COUNT	1646779
+SHUFFLE	COPY_MAP_DATA	22848000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1614944
+SHUFFLE	COMPRESS_BYTE_COUNT	1614948
+SHUFFLE	COPY_MAP_DATA	28827000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1688655
+SHUFFLE	COMPRESS_BYTE_COUNT	1688659
+SHUFFLE	COPY_MAP_DATA	361706000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1480983
+SHUFFLE	COMPRESS_BYTE_COUNT	1480987
+SHUFFLE	COPY_MAP_DATA	27445000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1828886
+SHUFFLE	COMPRESS_BYTE_COUNT	1828890
+SHUFFLE	COPY_MAP_DATA	69864000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1787573
+SHUFFLE	COMPRESS_BYTE_COUNT	1787577
+SHUFFLE	COPY_MAP_DATA	28369000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1627812
+SHUFFLE	COMPRESS_BYTE_COUNT	1627816
+SHUFFLE	COPY_MAP_DATA	216035000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1673076
+SHUFFLE	COMPRESS_BYTE_COUNT	1673080
+SHUFFLE	COPY_MAP_DATA	156478000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1739770
+SHUFFLE	COMPRESS_BYTE_COUNT	1739774
+SHUFFLE	COPY_MAP_DATA	220980000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1621411
+SHUFFLE	COMPRESS_BYTE_COUNT	1621415
+SHUFFLE	COPY_MAP_DATA	2220212000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1647094
+SHUFFLE	COMPRESS_BYTE_COUNT	1647098
+SHUFFLE	COPY_MAP_DATA	2861791000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1907859
+SHUFFLE	COMPRESS_BYTE_COUNT	1907863
+SHUFFLE	COPY_MAP_DATA	139597000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1732437
+SHUFFLE	COMPRESS_BYTE_COUNT	1732441
+SHUFFLE	COPY_MAP_DATA	78985000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1671409
+SHUFFLE	COMPRESS_BYTE_COUNT	1671413
+SHUFFLE	COPY_MAP_DATA	2678038000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1451499
+SHUFFLE	COMPRESS_BYTE_COUNT	1451503
+SHUFFLE	COPY_MAP_DATA	609687000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1872222
+SHUFFLE	COMPRESS_BYTE_COUNT	1872226
+SHUFFLE	COPY_MAP_DATA	10092000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1544837
+SHUFFLE	COMPRESS_BYTE_COUNT	1544841
+SHUFFLE	COPY_MAP_DATA	72475000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1459758
+SHUFFLE	COMPRESS_BYTE_COUNT	1459762
+SHUFFLE	COPY_MAP_DATA	11886690000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1579606
+SHUFFLE	COMPRESS_BYTE_COUNT	1579610
+SHUFFLE	COPY_MAP_DATA	56863000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	792063
+SHUFFLE	COMPRESS_BYTE_COUNT	792067
+SHUFFLE	COPY_MAP_DATA	4220370000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1745596
+SHUFFLE	COMPRESS_BYTE_COUNT	1745600
+SHUFFLE	COPY_MAP_DATA	23778000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1596375
+SHUFFLE	COMPRESS_BYTE_COUNT	1596379
+SHUFFLE	COPY_MAP_DATA	289375000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	941374
+SHUFFLE	COMPRESS_BYTE_COUNT	941378
+SHUFFLE	COPY_MAP_DATA	27551000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1635002
+SHUFFLE	COMPRESS_BYTE_COUNT	1635006
+SHUFFLE	COPY_MAP_DATA	23777000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1512847
+SHUFFLE	COMPRESS_BYTE_COUNT	1512851
+SHUFFLE	COPY_MAP_DATA	19608000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	859631
+SHUFFLE	COMPRESS_BYTE_COUNT	859635
+SHUFFLE	COPY_MAP_DATA	19990000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1532960
+SHUFFLE	COMPRESS_BYTE_COUNT	1532964
+SHUFFLE	COPY_MAP_DATA	23473000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1837638
+SHUFFLE	COMPRESS_BYTE_COUNT	1837642
+SHUFFLE	COPY_MAP_DATA	25783000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	859670
+SHUFFLE	COMPRESS_BYTE_COUNT	859674
+SHUFFLE	COPY_MAP_DATA	18633000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1010950
+SHUFFLE	COMPRESS_BYTE_COUNT	1010954
+SHUFFLE	COPY_MAP_DATA	14997000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1035706
+SHUFFLE	COMPRESS_BYTE_COUNT	1035710
+SHUFFLE	COPY_MAP_DATA	12042000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1652737
+SHUFFLE	COMPRESS_BYTE_COUNT	1652741
+SHUFFLE	COPY_MAP_DATA	29972000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1792138
+SHUFFLE	COMPRESS_BYTE_COUNT	1792142
+SHUFFLE	COPY_MAP_DATA	570430000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1395026
+SHUFFLE	COMPRESS_BYTE_COUNT	1395030
+SHUFFLE	COPY_MAP_DATA	383153000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1893464
+SHUFFLE	COMPRESS_BYTE_COUNT	1893468
+SHUFFLE	COPY_MAP_DATA	35373000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1023815
+SHUFFLE	COMPRESS_BYTE_COUNT	1023819
+SHUFFLE	COPY_MAP_DATA	401507000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1839661
+SHUFFLE	COMPRESS_BYTE_COUNT	1839665
+SHUFFLE	COPY_MAP_DATA	279021000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1065892
+SHUFFLE	COMPRESS_BYTE_COUNT	1065896
+SHUFFLE	COPY_MAP_DATA	2630101000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	953020
+SHUFFLE	COMPRESS_BYTE_COUNT	953024
+SHUFFLE	COPY_MAP_DATA	42207000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1596253
+SHUFFLE	COMPRESS_BYTE_COUNT	1596257
+SHUFFLE	COPY_MAP_DATA	31392000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1751113
+SHUFFLE	COMPRESS_BYTE_COUNT	1751117
+SHUFFLE	COPY_MAP_DATA	306191000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1515129
+SHUFFLE	COMPRESS_BYTE_COUNT	1515133
+SHUFFLE	COPY_MAP_DATA	692092000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1029069
+SHUFFLE	COMPRESS_BYTE_COUNT	1029073
+SHUFFLE	COPY_MAP_DATA	23126000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1625764
+SHUFFLE	COMPRESS_BYTE_COUNT	1625768
+SHUFFLE	COPY_MAP_DATA	21394000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2122003
+SHUFFLE	COMPRESS_BYTE_COUNT	2122007
+SHUFFLE	COPY_MAP_DATA	282445000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	952962
+SHUFFLE	COMPRESS_BYTE_COUNT	952966
+SHUFFLE	COPY_MAP_DATA	173958000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1700083
+SHUFFLE	COMPRESS_BYTE_COUNT	1700087
+SHUFFLE	COPY_MAP_DATA	24358000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1008307
+SHUFFLE	COMPRESS_BYTE_COUNT	1008311
+SHUFFLE	COPY_MAP_DATA	96569000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	971750
+SHUFFLE	COMPRESS_BYTE_COUNT	971754
+SHUFFLE	COPY_MAP_DATA	80098000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1611400
+SHUFFLE	COMPRESS_BYTE_COUNT	1611404
+SHUFFLE	COPY_MAP_DATA	1407165000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1677772
+SHUFFLE	COMPRESS_BYTE_COUNT	1677776
+SHUFFLE	COPY_MAP_DATA	49714000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	980915
+SHUFFLE	COMPRESS_BYTE_COUNT	980919
+SHUFFLE	COPY_MAP_DATA	17015000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	979249
+SHUFFLE	COMPRESS_BYTE_COUNT	979253
+SHUFFLE	COPY_MAP_DATA	104939000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	991834
+SHUFFLE	COMPRESS_BYTE_COUNT	991838
+SHUFFLE	COPY_MAP_DATA	2060167000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1037711
+SHUFFLE	COMPRESS_BYTE_COUNT	1037715
+SHUFFLE	COPY_MAP_DATA	25907000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1081402
+SHUFFLE	COMPRESS_BYTE_COUNT	1081406
+SHUFFLE	COPY_MAP_DATA	22999000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	842889
+SHUFFLE	COMPRESS_BYTE_COUNT	842893
+SHUFFLE	COPY_MAP_DATA	14474000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	956640
+SHUFFLE	COMPRESS_BYTE_COUNT	956644
+SHUFFLE	COPY_MAP_DATA	19084000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	967157
+SHUFFLE	COMPRESS_BYTE_COUNT	967161
+SHUFFLE	COPY_MAP_DATA	19366000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	980527
+SHUFFLE	COMPRESS_BYTE_COUNT	980531
+SHUFFLE	COPY_MAP_DATA	77423000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	959669
+SHUFFLE	COMPRESS_BYTE_COUNT	959673
+SHUFFLE	COPY_MAP_DATA	16895000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	987259
+SHUFFLE	COMPRESS_BYTE_COUNT	987263
+SHUFFLE	COPY_MAP_DATA	23309000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	984601
+SHUFFLE	COMPRESS_BYTE_COUNT	984605
+SHUFFLE	COPY_MAP_DATA	809466000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	992922
+SHUFFLE	COMPRESS_BYTE_COUNT	992926
+SHUFFLE	COPY_MAP_DATA	37538000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1012373
+SHUFFLE	COMPRESS_BYTE_COUNT	1012377
+SHUFFLE	COPY_MAP_DATA	39757000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	987295
+SHUFFLE	COMPRESS_BYTE_COUNT	987299
+SHUFFLE	COPY_MAP_DATA	35745000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	962785
+SHUFFLE	COMPRESS_BYTE_COUNT	962789
+SHUFFLE	COPY_MAP_DATA	78425000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	991429
+SHUFFLE	COMPRESS_BYTE_COUNT	991433
+SHUFFLE	COPY_MAP_DATA	18628000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	997045
+SHUFFLE	COMPRESS_BYTE_COUNT	997049
+SHUFFLE	COPY_MAP_DATA	153312000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	976718
+SHUFFLE	COMPRESS_BYTE_COUNT	976722
+SHUFFLE	COPY_MAP_DATA	32315000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1491627
+SHUFFLE	COMPRESS_BYTE_COUNT	1491631
+SHUFFLE	COPY_MAP_DATA	12624658000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1028495
+SHUFFLE	COMPRESS_BYTE_COUNT	1028499
+SHUFFLE	COPY_MAP_DATA	43022000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	980004
+SHUFFLE	COMPRESS_BYTE_COUNT	980008
+SHUFFLE	COPY_MAP_DATA	31005000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1093907
+SHUFFLE	COMPRESS_BYTE_COUNT	1093911
+SHUFFLE	COPY_MAP_DATA	360616000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	994313
+SHUFFLE	COMPRESS_BYTE_COUNT	994317
+SHUFFLE	COPY_MAP_DATA	15733000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	986992
+SHUFFLE	COMPRESS_BYTE_COUNT	986996
+SHUFFLE	COPY_MAP_DATA	34621000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	972907
+SHUFFLE	COMPRESS_BYTE_COUNT	972911
+SHUFFLE	COPY_MAP_DATA	86687000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	990464
+SHUFFLE	COMPRESS_BYTE_COUNT	990468
+SHUFFLE	COPY_MAP_DATA	225615000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	972068
+SHUFFLE	COMPRESS_BYTE_COUNT	972072
+SHUFFLE	COPY_MAP_DATA	776864000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	993952
+SHUFFLE	COMPRESS_BYTE_COUNT	993956
+SHUFFLE	COPY_MAP_DATA	32539000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1074830
+SHUFFLE	COMPRESS_BYTE_COUNT	1074834
+SHUFFLE	COPY_MAP_DATA	192155000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1024911
+SHUFFLE	COMPRESS_BYTE_COUNT	1024915
+SHUFFLE	COPY_MAP_DATA	21724000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	971531
+SHUFFLE	COMPRESS_BYTE_COUNT	971535
+SHUFFLE	COPY_MAP_DATA	81507000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	922352
+SHUFFLE	COMPRESS_BYTE_COUNT	922356
+SHUFFLE	COPY_MAP_DATA	334049000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1013360
+SHUFFLE	COMPRESS_BYTE_COUNT	1013364
+SHUFFLE	COPY_MAP_DATA	1628938000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	943361
+SHUFFLE	COMPRESS_BYTE_COUNT	943365
+SHUFFLE	COPY_MAP_DATA	63690000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	960358
+SHUFFLE	COMPRESS_BYTE_COUNT	960362
+SHUFFLE	COPY_MAP_DATA	22651000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1003456
+SHUFFLE	COMPRESS_BYTE_COUNT	1003460
+SHUFFLE	COPY_MAP_DATA	21509000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	938978
+SHUFFLE	COMPRESS_BYTE_COUNT	938982
+SHUFFLE	COPY_MAP_DATA	16129000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1007275
+SHUFFLE	COMPRESS_BYTE_COUNT	1007279
+SHUFFLE	COPY_MAP_DATA	11407000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	982650
+SHUFFLE	COMPRESS_BYTE_COUNT	982654
+SHUFFLE	COPY_MAP_DATA	21287000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	981629
+SHUFFLE	COMPRESS_BYTE_COUNT	981633
+SHUFFLE	COPY_MAP_DATA	104514000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	968909
+SHUFFLE	COMPRESS_BYTE_COUNT	968913
+SHUFFLE	COPY_MAP_DATA	16786000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	967879
+SHUFFLE	COMPRESS_BYTE_COUNT	967883
+SHUFFLE	COPY_MAP_DATA	16989000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	958935
+SHUFFLE	COMPRESS_BYTE_COUNT	958939
+SHUFFLE	COPY_MAP_DATA	96640000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	966404
+SHUFFLE	COMPRESS_BYTE_COUNT	966408
+SHUFFLE	COPY_MAP_DATA	1048841000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1087643
+SHUFFLE	COMPRESS_BYTE_COUNT	1087647
+SHUFFLE	COPY_MAP_DATA	350883000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	990227
+SHUFFLE	COMPRESS_BYTE_COUNT	990231
+SHUFFLE	COPY_MAP_DATA	193627000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1000661
+SHUFFLE	COMPRESS_BYTE_COUNT	1000665
+SHUFFLE	COPY_MAP_DATA	10143000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	889875
+SHUFFLE	COMPRESS_BYTE_COUNT	889879
+SHUFFLE	COPY_MAP_DATA	16737000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	941357
+SHUFFLE	COMPRESS_BYTE_COUNT	941361
+SHUFFLE	COPY_MAP_DATA	12341000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	974169
+SHUFFLE	COMPRESS_BYTE_COUNT	974173
+SHUFFLE	COPY_MAP_DATA	10891000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	915910
+SHUFFLE	COMPRESS_BYTE_COUNT	915914
+SHUFFLE	COPY_MAP_DATA	397765000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	935593
+SHUFFLE	COMPRESS_BYTE_COUNT	935597
+SHUFFLE	COPY_MAP_DATA	703464000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	939880
+SHUFFLE	COMPRESS_BYTE_COUNT	939884
+SHUFFLE	COPY_MAP_DATA	21338000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	976842
+SHUFFLE	COMPRESS_BYTE_COUNT	976846
+SHUFFLE	COPY_MAP_DATA	39649000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	966722
+SHUFFLE	COMPRESS_BYTE_COUNT	966726
+SHUFFLE	COPY_MAP_DATA	50260000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	979640
+SHUFFLE	COMPRESS_BYTE_COUNT	979644
+SHUFFLE	COPY_MAP_DATA	18210000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	945074
+SHUFFLE	COMPRESS_BYTE_COUNT	945078
+SHUFFLE	COPY_MAP_DATA	176431000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	913941
+SHUFFLE	COMPRESS_BYTE_COUNT	913945
+SHUFFLE	COPY_MAP_DATA	179987000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	947561
+SHUFFLE	COMPRESS_BYTE_COUNT	947565
+SHUFFLE	COPY_MAP_DATA	90109000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	968494
+SHUFFLE	COMPRESS_BYTE_COUNT	968498
+SHUFFLE	COPY_MAP_DATA	1120588000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1011805
+SHUFFLE	COMPRESS_BYTE_COUNT	1011809
+SHUFFLE	COPY_MAP_DATA	22661000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	918886
+SHUFFLE	COMPRESS_BYTE_COUNT	918890
+SHUFFLE	COPY_MAP_DATA	19683000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	893608
+SHUFFLE	COMPRESS_BYTE_COUNT	893612
+SHUFFLE	COPY_MAP_DATA	13869000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	989256
+SHUFFLE	COMPRESS_BYTE_COUNT	989260
+SHUFFLE	COPY_MAP_DATA	216893000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	917765
+SHUFFLE	COMPRESS_BYTE_COUNT	917769
+SHUFFLE	COPY_MAP_DATA	17846000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	898249
+SHUFFLE	COMPRESS_BYTE_COUNT	898253
+SHUFFLE	COPY_MAP_DATA	17152000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	893097
+SHUFFLE	COMPRESS_BYTE_COUNT	893101
+SHUFFLE	COPY_MAP_DATA	296350000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	907337
+SHUFFLE	COMPRESS_BYTE_COUNT	907341
+SHUFFLE	COPY_MAP_DATA	15516000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	942502
+SHUFFLE	COMPRESS_BYTE_COUNT	942506
+SHUFFLE	COPY_MAP_DATA	22133000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	882776
+SHUFFLE	COMPRESS_BYTE_COUNT	882780
+SHUFFLE	COPY_MAP_DATA	11492000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	925700
+SHUFFLE	COMPRESS_BYTE_COUNT	925704
+SHUFFLE	COPY_MAP_DATA	19305000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	960832
+SHUFFLE	COMPRESS_BYTE_COUNT	960836
+SHUFFLE	COPY_MAP_DATA	16626000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	897738
+SHUFFLE	COMPRESS_BYTE_COUNT	897742
+SHUFFLE	COPY_MAP_DATA	18610000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	898624
+SHUFFLE	COMPRESS_BYTE_COUNT	898628
+SHUFFLE	COPY_MAP_DATA	33569000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	894738
+SHUFFLE	COMPRESS_BYTE_COUNT	894742
+SHUFFLE	COPY_MAP_DATA	1762235000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	874872
+SHUFFLE	COMPRESS_BYTE_COUNT	874876
+SHUFFLE	COPY_MAP_DATA	15970000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	884583
+SHUFFLE	COMPRESS_BYTE_COUNT	884587
+SHUFFLE	COPY_MAP_DATA	21541000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	923747
+SHUFFLE	COMPRESS_BYTE_COUNT	923751
+SHUFFLE	COPY_MAP_DATA	182496000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	920318
+SHUFFLE	COMPRESS_BYTE_COUNT	920322
+SHUFFLE	COPY_MAP_DATA	254542000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	936535
+SHUFFLE	COMPRESS_BYTE_COUNT	936539
+SHUFFLE	COPY_MAP_DATA	6383123000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	891010
+SHUFFLE	COMPRESS_BYTE_COUNT	891014
+SHUFFLE	COPY_MAP_DATA	1334388000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	872806
+SHUFFLE	COMPRESS_BYTE_COUNT	872810
+SHUFFLE	COPY_MAP_DATA	1670268000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	848088
+SHUFFLE	COMPRESS_BYTE_COUNT	848092
+SHUFFLE	COPY_MAP_DATA	18938000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	927599
+SHUFFLE	COMPRESS_BYTE_COUNT	927603
+SHUFFLE	COPY_MAP_DATA	31932000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	933435
+SHUFFLE	COMPRESS_BYTE_COUNT	933439
+SHUFFLE	COPY_MAP_DATA	18416000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	847390
+SHUFFLE	COMPRESS_BYTE_COUNT	847394
+SHUFFLE	COPY_MAP_DATA	79320000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	855574
+SHUFFLE	COMPRESS_BYTE_COUNT	855578
+SHUFFLE	COPY_MAP_DATA	133222000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	856305
+SHUFFLE	COMPRESS_BYTE_COUNT	856309
+SHUFFLE	COPY_MAP_DATA	3890539000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	886662
+SHUFFLE	COMPRESS_BYTE_COUNT	886666
+SHUFFLE	COPY_MAP_DATA	57895000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	794878
+SHUFFLE	COMPRESS_BYTE_COUNT	794882
+SHUFFLE	COPY_MAP_DATA	23836000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	880819
+SHUFFLE	COMPRESS_BYTE_COUNT	880823
+SHUFFLE	COPY_MAP_DATA	3044747000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	840441
+SHUFFLE	COMPRESS_BYTE_COUNT	840445
+SHUFFLE	COPY_MAP_DATA	1514253000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	827984
+SHUFFLE	COMPRESS_BYTE_COUNT	827988
+SHUFFLE	COPY_MAP_DATA	3003252000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	849765
+SHUFFLE	COMPRESS_BYTE_COUNT	849769
+SHUFFLE	COPY_MAP_DATA	15704000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	926812
+SHUFFLE	COMPRESS_BYTE_COUNT	926816
+SHUFFLE	COPY_MAP_DATA	20335000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	827191
+SHUFFLE	COMPRESS_BYTE_COUNT	827195
+SHUFFLE	COPY_MAP_DATA	13431000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	819739
+SHUFFLE	COMPRESS_BYTE_COUNT	819743
+SHUFFLE	COPY_MAP_DATA	11758000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	865727
+SHUFFLE	COMPRESS_BYTE_COUNT	865731
+SHUFFLE	COPY_MAP_DATA	2339406000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1011518
+SHUFFLE	COMPRESS_BYTE_COUNT	1011522
+SHUFFLE	COPY_MAP_DATA	21819000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	783116
+SHUFFLE	COMPRESS_BYTE_COUNT	783120
+SHUFFLE	COPY_MAP_DATA	15897000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1079579
+SHUFFLE	COMPRESS_BYTE_COUNT	1079583
+SHUFFLE	COPY_MAP_DATA	11755000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	841594
+SHUFFLE	COMPRESS_BYTE_COUNT	841598
+SHUFFLE	COPY_MAP_DATA	153262000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	863374
+SHUFFLE	COMPRESS_BYTE_COUNT	863378
+SHUFFLE	COPY_MAP_DATA	20369000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	800561
+SHUFFLE	COMPRESS_BYTE_COUNT	800565
+SHUFFLE	COPY_MAP_DATA	17156000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	834240
+SHUFFLE	COMPRESS_BYTE_COUNT	834244
+SHUFFLE	COPY_MAP_DATA	9418000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	858537
+SHUFFLE	COMPRESS_BYTE_COUNT	858541
+SHUFFLE	COPY_MAP_DATA	98209000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	756238
+SHUFFLE	COMPRESS_BYTE_COUNT	756242
+SHUFFLE	COPY_MAP_DATA	9455000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	852292
+SHUFFLE	COMPRESS_BYTE_COUNT	852296
+SHUFFLE	COPY_MAP_DATA	442461000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	825682
+SHUFFLE	COMPRESS_BYTE_COUNT	825686
+SHUFFLE	COPY_MAP_DATA	425673000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	873864
+SHUFFLE	COMPRESS_BYTE_COUNT	873868
+SHUFFLE	COPY_MAP_DATA	9679000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	964114
+SHUFFLE	COMPRESS_BYTE_COUNT	964118
+SHUFFLE	COPY_MAP_DATA	109513000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	851778
+SHUFFLE	COMPRESS_BYTE_COUNT	851782
+SHUFFLE	COPY_MAP_DATA	38864000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	848533
+SHUFFLE	COMPRESS_BYTE_COUNT	848537
+SHUFFLE	COPY_MAP_DATA	224987000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	833707
+SHUFFLE	COMPRESS_BYTE_COUNT	833711
+SHUFFLE	COPY_MAP_DATA	18683000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	816782
+SHUFFLE	COMPRESS_BYTE_COUNT	816786
+SHUFFLE	COPY_MAP_DATA	2273941000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	829785
+SHUFFLE	COMPRESS_BYTE_COUNT	829789
+SHUFFLE	COPY_MAP_DATA	501421000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	941805
+SHUFFLE	COMPRESS_BYTE_COUNT	941809
+SHUFFLE	COPY_MAP_DATA	1039067000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	823544
+SHUFFLE	COMPRESS_BYTE_COUNT	823548
+SHUFFLE	COPY_MAP_DATA	10980000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	918660
+SHUFFLE	COMPRESS_BYTE_COUNT	918664
+SHUFFLE	COPY_MAP_DATA	145650000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	820621
+SHUFFLE	COMPRESS_BYTE_COUNT	820625
+SHUFFLE	COPY_MAP_DATA	622946000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	800050
+SHUFFLE	COMPRESS_BYTE_COUNT	800054
+SHUFFLE	COPY_MAP_DATA	443495000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	764161
+SHUFFLE	COMPRESS_BYTE_COUNT	764165
+SHUFFLE	COPY_MAP_DATA	250163000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	827698
+SHUFFLE	COMPRESS_BYTE_COUNT	827702
+SHUFFLE	COPY_MAP_DATA	35674000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	912131
+SHUFFLE	COMPRESS_BYTE_COUNT	912135
+SHUFFLE	COPY_MAP_DATA	1069778000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	935797
+SHUFFLE	COMPRESS_BYTE_COUNT	935801
+SHUFFLE	COPY_MAP_DATA	759966000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	789527
+SHUFFLE	COMPRESS_BYTE_COUNT	789531
+SHUFFLE	COPY_MAP_DATA	14880000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	782506
+SHUFFLE	COMPRESS_BYTE_COUNT	782510
+SHUFFLE	COPY_MAP_DATA	45188000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	772214
+SHUFFLE	COMPRESS_BYTE_COUNT	772218
+SHUFFLE	COPY_MAP_DATA	1856717000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	755703
+SHUFFLE	COMPRESS_BYTE_COUNT	755707
+SHUFFLE	COPY_MAP_DATA	17288000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	870442
+SHUFFLE	COMPRESS_BYTE_COUNT	870446
+SHUFFLE	COPY_MAP_DATA	13923000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	827641
+SHUFFLE	COMPRESS_BYTE_COUNT	827645
+SHUFFLE	COPY_MAP_DATA	400204000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	805502
+SHUFFLE	COMPRESS_BYTE_COUNT	805506
+SHUFFLE	COPY_MAP_DATA	24670000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	750123
+SHUFFLE	COMPRESS_BYTE_COUNT	750127
+SHUFFLE	COPY_MAP_DATA	14455000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	824044
+SHUFFLE	COMPRESS_BYTE_COUNT	824048
+SHUFFLE	COPY_MAP_DATA	17111000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	832605
+SHUFFLE	COMPRESS_BYTE_COUNT	832609
+SHUFFLE	COPY_MAP_DATA	39663000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	765765
+SHUFFLE	COMPRESS_BYTE_COUNT	765769
+SHUFFLE	COPY_MAP_DATA	9354000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	850661
+SHUFFLE	COMPRESS_BYTE_COUNT	850665
+SHUFFLE	COPY_MAP_DATA	210705000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	732658
+SHUFFLE	COMPRESS_BYTE_COUNT	732662
+SHUFFLE	COPY_MAP_DATA	8300000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	787079
+SHUFFLE	COMPRESS_BYTE_COUNT	787083
+SHUFFLE	COPY_MAP_DATA	15582000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	839808
+SHUFFLE	COMPRESS_BYTE_COUNT	839812
+SHUFFLE	COPY_MAP_DATA	19246000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	953564
+SHUFFLE	COMPRESS_BYTE_COUNT	953568
+SHUFFLE	COPY_MAP_DATA	190255000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1028327
+SHUFFLE	COMPRESS_BYTE_COUNT	1028331
+SHUFFLE	COPY_MAP_DATA	220974000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1122586
+SHUFFLE	COMPRESS_BYTE_COUNT	1122590
+SHUFFLE	COPY_MAP_DATA	994498000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	942912
+SHUFFLE	COMPRESS_BYTE_COUNT	942916
+SHUFFLE	COPY_MAP_DATA	3287553000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	721510
+SHUFFLE	COMPRESS_BYTE_COUNT	721514
+SHUFFLE	COPY_MAP_DATA	30069000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	787033
+SHUFFLE	COMPRESS_BYTE_COUNT	787037
+SHUFFLE	COPY_MAP_DATA	17225000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	862499
+SHUFFLE	COMPRESS_BYTE_COUNT	862503
+SHUFFLE	COPY_MAP_DATA	79644000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	796482
+SHUFFLE	COMPRESS_BYTE_COUNT	796486
+SHUFFLE	COPY_MAP_DATA	1179069000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	743543
+SHUFFLE	COMPRESS_BYTE_COUNT	743547
+SHUFFLE	COPY_MAP_DATA	19101000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	785575
+SHUFFLE	COMPRESS_BYTE_COUNT	785579
+SHUFFLE	COPY_MAP_DATA	110899000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	753359
+SHUFFLE	COMPRESS_BYTE_COUNT	753363
+SHUFFLE	COPY_MAP_DATA	91578000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	758371
+SHUFFLE	COMPRESS_BYTE_COUNT	758375
+SHUFFLE	COPY_MAP_DATA	297722000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	871875
+SHUFFLE	COMPRESS_BYTE_COUNT	871879
+SHUFFLE	COPY_MAP_DATA	2200216000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	729991
+SHUFFLE	COMPRESS_BYTE_COUNT	729995
+SHUFFLE	COPY_MAP_DATA	17137000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	791075
+SHUFFLE	COMPRESS_BYTE_COUNT	791079
+SHUFFLE	COPY_MAP_DATA	22707000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	876410
+SHUFFLE	COMPRESS_BYTE_COUNT	876414
+SHUFFLE	COPY_MAP_DATA	69332000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	800158
+SHUFFLE	COMPRESS_BYTE_COUNT	800162
+SHUFFLE	COPY_MAP_DATA	216658000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	845754
+SHUFFLE	COMPRESS_BYTE_COUNT	845758
+SHUFFLE	COPY_MAP_DATA	5356466000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	787248
+SHUFFLE	COMPRESS_BYTE_COUNT	787252
+SHUFFLE	COPY_MAP_DATA	190947000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	959154
+SHUFFLE	COMPRESS_BYTE_COUNT	959158
+SHUFFLE	COPY_MAP_DATA	665387000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	811520
+SHUFFLE	COMPRESS_BYTE_COUNT	811524
+SHUFFLE	COPY_MAP_DATA	81344000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	871253
+SHUFFLE	COMPRESS_BYTE_COUNT	871257
+SHUFFLE	COPY_MAP_DATA	281698000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	816294
+SHUFFLE	COMPRESS_BYTE_COUNT	816298
+SHUFFLE	COPY_MAP_DATA	2321879000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	777999
+SHUFFLE	COMPRESS_BYTE_COUNT	778003
+SHUFFLE	COPY_MAP_DATA	94251000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	902915
+SHUFFLE	COMPRESS_BYTE_COUNT	902919
+SHUFFLE	COPY_MAP_DATA	113109000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	794485
+SHUFFLE	COMPRESS_BYTE_COUNT	794489
+SHUFFLE	COPY_MAP_DATA	129566000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	715220
+SHUFFLE	COMPRESS_BYTE_COUNT	715224
+SHUFFLE	COPY_MAP_DATA	402469000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	717084
+SHUFFLE	COMPRESS_BYTE_COUNT	717088
+SHUFFLE	COPY_MAP_DATA	85966000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	770752
+SHUFFLE	COMPRESS_BYTE_COUNT	770756
+SHUFFLE	COPY_MAP_DATA	2747293000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	823675
+SHUFFLE	COMPRESS_BYTE_COUNT	823679
+SHUFFLE	COPY_MAP_DATA	5068916000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	959417
+SHUFFLE	COMPRESS_BYTE_COUNT	959421
+SHUFFLE	COPY_MAP_DATA	104331000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	778610
+SHUFFLE	COMPRESS_BYTE_COUNT	778614
+SHUFFLE	COPY_MAP_DATA	2162660000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	832118
+SHUFFLE	COMPRESS_BYTE_COUNT	832122
+SHUFFLE	COPY_MAP_DATA	49862000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	845887
+SHUFFLE	COMPRESS_BYTE_COUNT	845891
+SHUFFLE	COPY_MAP_DATA	385127000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1111379
+SHUFFLE	COMPRESS_BYTE_COUNT	1111383
+SHUFFLE	COPY_MAP_DATA	774173000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	727274
+SHUFFLE	COMPRESS_BYTE_COUNT	727278
+SHUFFLE	COPY_MAP_DATA	15384000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	765089
+SHUFFLE	COMPRESS_BYTE_COUNT	765093
+SHUFFLE	COPY_MAP_DATA	13860000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	850510
+SHUFFLE	COMPRESS_BYTE_COUNT	850514
+SHUFFLE	COPY_MAP_DATA	104552000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	717084
+SHUFFLE	COMPRESS_BYTE_COUNT	717088
+SHUFFLE	COPY_MAP_DATA	17969000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	752672
+SHUFFLE	COMPRESS_BYTE_COUNT	752676
+SHUFFLE	COPY_MAP_DATA	591897000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	778705
+SHUFFLE	COMPRESS_BYTE_COUNT	778709
+SHUFFLE	COPY_MAP_DATA	3715636000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	881645
+SHUFFLE	COMPRESS_BYTE_COUNT	881649
+SHUFFLE	COPY_MAP_DATA	21440000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	832986
+SHUFFLE	COMPRESS_BYTE_COUNT	832990
+SHUFFLE	COPY_MAP_DATA	38605000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	869938
+SHUFFLE	COMPRESS_BYTE_COUNT	869942
+SHUFFLE	COPY_MAP_DATA	504181000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	832792
+SHUFFLE	COMPRESS_BYTE_COUNT	832796
+SHUFFLE	COPY_MAP_DATA	222406000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	745745
+SHUFFLE	COMPRESS_BYTE_COUNT	745749
+SHUFFLE	COPY_MAP_DATA	33239000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	737840
+SHUFFLE	COMPRESS_BYTE_COUNT	737844
+SHUFFLE	COPY_MAP_DATA	164189000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	801609
+SHUFFLE	COMPRESS_BYTE_COUNT	801613
+SHUFFLE	COPY_MAP_DATA	183152000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	957128
+SHUFFLE	COMPRESS_BYTE_COUNT	957132
+SHUFFLE	COPY_MAP_DATA	18368000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	695599
+SHUFFLE	COMPRESS_BYTE_COUNT	695603
+SHUFFLE	COPY_MAP_DATA	17072000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	880246
+SHUFFLE	COMPRESS_BYTE_COUNT	880250
+SHUFFLE	COPY_MAP_DATA	50567000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	779595
+SHUFFLE	COMPRESS_BYTE_COUNT	779599
+SHUFFLE	COPY_MAP_DATA	991327000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	990551
+SHUFFLE	COMPRESS_BYTE_COUNT	990555
+SHUFFLE	COPY_MAP_DATA	283731000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	745883
+SHUFFLE	COMPRESS_BYTE_COUNT	745887
+SHUFFLE	COPY_MAP_DATA	250966000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	712034
+SHUFFLE	COMPRESS_BYTE_COUNT	712038
+SHUFFLE	COPY_MAP_DATA	22733000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	784550
+SHUFFLE	COMPRESS_BYTE_COUNT	784554
+SHUFFLE	COPY_MAP_DATA	914963000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	899069
+SHUFFLE	COMPRESS_BYTE_COUNT	899073
+SHUFFLE	COPY_MAP_DATA	164034000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	967702
+SHUFFLE	COMPRESS_BYTE_COUNT	967706
+SHUFFLE	COPY_MAP_DATA	539473000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	750042
+SHUFFLE	COMPRESS_BYTE_COUNT	750046
+SHUFFLE	COPY_MAP_DATA	22794000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	801296
+SHUFFLE	COMPRESS_BYTE_COUNT	801300
+SHUFFLE	COPY_MAP_DATA	10919000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	642356
+SHUFFLE	COMPRESS_BYTE_COUNT	642360
+SHUFFLE	COPY_MAP_DATA	17826000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	962482
+SHUFFLE	COMPRESS_BYTE_COUNT	962486
+SHUFFLE	COPY_MAP_DATA	16894000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1042426
+SHUFFLE	COMPRESS_BYTE_COUNT	1042430
+SHUFFLE	COPY_MAP_DATA	19838000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	888616
+SHUFFLE	COMPRESS_BYTE_COUNT	888620
+SHUFFLE	COPY_MAP_DATA	18943000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	806027
+SHUFFLE	COMPRESS_BYTE_COUNT	806031
+SHUFFLE	COPY_MAP_DATA	15549000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	107357307000
+MERGE	READ_WRITE	105894359000
+MERGE	READ_WRITE_COUNT	2
+MERGE	COMBINE	0
+MERGE	WRITE	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	16070104000
+SORT	READ_WRITE	15936938000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	143967016
+REDUCE	SETUP	347000
+REDUCE	SETUP_MEM	143967016
+REDUCE	CLEANUP	49000
+REDUCE	CLEANUP_MEM	175807656
+REDUCE	TOTAL_RUN	107745085000
+REDUCE	READ	10185378000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	90937809000
+REDUCE	WRITE	31127982000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	72855542
+REDUCE	VALUE_BYTE_COUNT	66209068
+REDUCE	REDUCE_MEM	175807656
+REDUCE	WRITE	12024000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	655083607993
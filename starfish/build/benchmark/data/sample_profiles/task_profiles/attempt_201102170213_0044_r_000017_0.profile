@@ -0,0 +1,1333 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1857619
+SHUFFLE	COMPRESS_BYTE_COUNT	1857623
+SHUFFLE	COPY_MAP_DATA	61972000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1966215
+SHUFFLE	COMPRESS_BYTE_COUNT	1966219
+SHUFFLE	COPY_MAP_DATA	199870000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1871576
+SHUFFLE	COMPRESS_BYTE_COUNT	1871580
+SHUFFLE	COPY_MAP_DATA	161698000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1613665
+SHUFFLE	COMPRESS_BYTE_COUNT	1613669
+SHUFFLE	COPY_MAP_DATA	201678000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1784360
+SHUFFLE	COMPRESS_BYTE_COUNT	1784364
+SHUFFLE	COPY_MAP_DATA	190260000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1874908
+SHUFFLE	COMPRESS_BYTE_COUNT	1874912
+SHUFFLE	COPY_MAP_DATA	132466000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1862487
+SHUFFLE	COMPRESS_BYTE_COUNT	1862491
+SHUFFLE	COPY_MAP_DATA	165300000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1809794
+SHUFFLE	COMPRESS_BYTE_COUNT	1809798
+SHUFFLE	COPY_MAP_DATA	42542000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1898786
+SHUFFLE	COMPRESS_BYTE_COUNT	1898790
+SHUFFLE	COPY_MAP_DATA	75879000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1943881
+SHUFFLE	COMPRESS_BYTE_COUNT	1943885
+SHUFFLE	COPY_MAP_DATA	71906000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2011332
+SHUFFLE	COMPRESS_BYTE_COUNT	2011336
+SHUFFLE	COPY_MAP_DATA	65174000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1827488
+SHUFFLE	COMPRESS_BYTE_COUNT	1827492
+SHUFFLE	COPY_MAP_DATA	205275000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1863375
+SHUFFLE	COMPRESS_BYTE_COUNT	1863379
+SHUFFLE	COPY_MAP_DATA	12512000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1754772
+SHUFFLE	COMPRESS_BYTE_COUNT	1754776
+SHUFFLE	COPY_MAP_DATA	58608000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1994970
+SHUFFLE	COMPRESS_BYTE_COUNT	1994974
+SHUFFLE	COPY_MAP_DATA	160861000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1891082
+SHUFFLE	COMPRESS_BYTE_COUNT	1891086
+SHUFFLE	COPY_MAP_DATA	35826000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1775476
+SHUFFLE	COMPRESS_BYTE_COUNT	1775480
+SHUFFLE	COPY_MAP_DATA	25168000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1902549
+SHUFFLE	COMPRESS_BYTE_COUNT	1902553
+SHUFFLE	COPY_MAP_DATA	64116000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1746286
+SHUFFLE	COMPRESS_BYTE_COUNT	1746290
+SHUFFLE	COPY_MAP_DATA	65995000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1877217
+SHUFFLE	COMPRESS_BYTE_COUNT	1877221
+SHUFFLE	COPY_MAP_DATA	157145000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1896741
+SHUFFLE	COMPRESS_BYTE_COUNT	1896745
+SHUFFLE	COPY_MAP_DATA	482504000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2117377
+SHUFFLE	COMPRESS_BYTE_COUNT	2117381
+SHUFFLE	COPY_MAP_DATA	97357000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1909414
+SHUFFLE	COMPRESS_BYTE_COUNT	1909418
+SHUFFLE	COPY_MAP_DATA	27764000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2027041
+SHUFFLE	COMPRESS_BYTE_COUNT	2027045
+SHUFFLE	COPY_MAP_DATA	52569000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1925634
+SHUFFLE	COMPRESS_BYTE_COUNT	1925638
+SHUFFLE	COPY_MAP_DATA	54249000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1928897
+SHUFFLE	COMPRESS_BYTE_COUNT	1928901
+SHUFFLE	COPY_MAP_DATA	45724000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1828895
+SHUFFLE	COMPRESS_BYTE_COUNT	1828899
+SHUFFLE	COPY_MAP_DATA	62324000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1937900
+SHUFFLE	COMPRESS_BYTE_COUNT	1937904
+SHUFFLE	COPY_MAP_DATA	3453137000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1958809
+SHUFFLE	COMPRESS_BYTE_COUNT	1958813
+SHUFFLE	COPY_MAP_DATA	312642000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2037661
+SHUFFLE	COMPRESS_BYTE_COUNT	2037665
+SHUFFLE	COPY_MAP_DATA	254716000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1803610
+SHUFFLE	COMPRESS_BYTE_COUNT	1803614
+SHUFFLE	COPY_MAP_DATA	156825000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1890301
+SHUFFLE	COMPRESS_BYTE_COUNT	1890305
+SHUFFLE	COPY_MAP_DATA	7029261000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1770935
+SHUFFLE	COMPRESS_BYTE_COUNT	1770939
+SHUFFLE	COPY_MAP_DATA	248550000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1861874
+SHUFFLE	COMPRESS_BYTE_COUNT	1861878
+SHUFFLE	COPY_MAP_DATA	3206355515
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1940260
+SHUFFLE	COMPRESS_BYTE_COUNT	1940264
+SHUFFLE	COPY_MAP_DATA	133881000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1654387
+SHUFFLE	COMPRESS_BYTE_COUNT	1654391
+SHUFFLE	COPY_MAP_DATA	216207000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1770811
+SHUFFLE	COMPRESS_BYTE_COUNT	1770815
+SHUFFLE	COPY_MAP_DATA	191075000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1762235
+SHUFFLE	COMPRESS_BYTE_COUNT	1762239
+SHUFFLE	COPY_MAP_DATA	479976000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1838105
+SHUFFLE	COMPRESS_BYTE_COUNT	1838109
+SHUFFLE	COPY_MAP_DATA	50163000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1875551
+SHUFFLE	COMPRESS_BYTE_COUNT	1875555
+SHUFFLE	COPY_MAP_DATA	156001000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1579253
+SHUFFLE	COMPRESS_BYTE_COUNT	1579257
+SHUFFLE	COPY_MAP_DATA	34281000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1902113
+SHUFFLE	COMPRESS_BYTE_COUNT	1902117
+SHUFFLE	COPY_MAP_DATA	561826000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1797065
+SHUFFLE	COMPRESS_BYTE_COUNT	1797069
+SHUFFLE	COPY_MAP_DATA	35537000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1616280
+SHUFFLE	COMPRESS_BYTE_COUNT	1616284
+SHUFFLE	COPY_MAP_DATA	35651000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1902487
+SHUFFLE	COMPRESS_BYTE_COUNT	1902491
+SHUFFLE	COPY_MAP_DATA	98832000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1785136
+SHUFFLE	COMPRESS_BYTE_COUNT	1785140
+SHUFFLE	COPY_MAP_DATA	1125383000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1866256
+SHUFFLE	COMPRESS_BYTE_COUNT	1866260
+SHUFFLE	COPY_MAP_DATA	927515000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1856883
+SHUFFLE	COMPRESS_BYTE_COUNT	1856887
+SHUFFLE	COPY_MAP_DATA	200254000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1709024
+SHUFFLE	COMPRESS_BYTE_COUNT	1709028
+SHUFFLE	COPY_MAP_DATA	26342000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1707301
+SHUFFLE	COMPRESS_BYTE_COUNT	1707305
+SHUFFLE	COPY_MAP_DATA	84427000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1723474
+SHUFFLE	COMPRESS_BYTE_COUNT	1723478
+SHUFFLE	COPY_MAP_DATA	35051000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1547260
+SHUFFLE	COMPRESS_BYTE_COUNT	1547264
+SHUFFLE	COPY_MAP_DATA	113276000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1696155
+SHUFFLE	COMPRESS_BYTE_COUNT	1696159
+SHUFFLE	COPY_MAP_DATA	166435000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1647391
+SHUFFLE	COMPRESS_BYTE_COUNT	1647395
+SHUFFLE	COPY_MAP_DATA	3540843000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1651400
+SHUFFLE	COMPRESS_BYTE_COUNT	1651404
+SHUFFLE	COPY_MAP_DATA	315426000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1727024
+SHUFFLE	COMPRESS_BYTE_COUNT	1727028
+SHUFFLE	COPY_MAP_DATA	52211000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1878246
+SHUFFLE	COMPRESS_BYTE_COUNT	1878250
+SHUFFLE	COPY_MAP_DATA	192615000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1788055
+SHUFFLE	COMPRESS_BYTE_COUNT	1788059
+SHUFFLE	COPY_MAP_DATA	121119000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1795068
+SHUFFLE	COMPRESS_BYTE_COUNT	1795072
+SHUFFLE	COPY_MAP_DATA	148996000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1708148
+SHUFFLE	COMPRESS_BYTE_COUNT	1708152
+SHUFFLE	COPY_MAP_DATA	232098000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1586702
+SHUFFLE	COMPRESS_BYTE_COUNT	1586706
+SHUFFLE	COPY_MAP_DATA	102944000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1460905
+SHUFFLE	COMPRESS_BYTE_COUNT	1460909
+SHUFFLE	COPY_MAP_DATA	111005000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1604347
+SHUFFLE	COMPRESS_BYTE_COUNT	1604351
+SHUFFLE	COPY_MAP_DATA	40559000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1524983
+SHUFFLE	COMPRESS_BYTE_COUNT	1524987
+SHUFFLE	COPY_MAP_DATA	151825000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1869893
+SHUFFLE	COMPRESS_BYTE_COUNT	1869897
+SHUFFLE	COPY_MAP_DATA	657317000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1616567
+SHUFFLE	COMPRESS_BYTE_COUNT	1616571
+SHUFFLE	COPY_MAP_DATA	70086000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1794247
+SHUFFLE	COMPRESS_BYTE_COUNT	1794251
+SHUFFLE	COPY_MAP_DATA	178978000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1609838
+SHUFFLE	COMPRESS_BYTE_COUNT	1609842
+SHUFFLE	COPY_MAP_DATA	314465000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1904750
+SHUFFLE	COMPRESS_BYTE_COUNT	1904754
+SHUFFLE	COPY_MAP_DATA	66980000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1537841
+SHUFFLE	COMPRESS_BYTE_COUNT	1537845
+SHUFFLE	COPY_MAP_DATA	66820000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1604853
+SHUFFLE	COMPRESS_BYTE_COUNT	1604857
+SHUFFLE	COPY_MAP_DATA	249097000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1856558
+SHUFFLE	COMPRESS_BYTE_COUNT	1856562
+SHUFFLE	COPY_MAP_DATA	109150000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1622975
+SHUFFLE	COMPRESS_BYTE_COUNT	1622979
+SHUFFLE	COPY_MAP_DATA	9878718000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1645870
+SHUFFLE	COMPRESS_BYTE_COUNT	1645874
+SHUFFLE	COPY_MAP_DATA	101453000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1671194
+SHUFFLE	COMPRESS_BYTE_COUNT	1671198
+SHUFFLE	COPY_MAP_DATA	130793000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1495576
+SHUFFLE	COMPRESS_BYTE_COUNT	1495580
+SHUFFLE	COPY_MAP_DATA	40716000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1692380
+SHUFFLE	COMPRESS_BYTE_COUNT	1692384
+SHUFFLE	COPY_MAP_DATA	115616000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1502203
+SHUFFLE	COMPRESS_BYTE_COUNT	1502207
+SHUFFLE	COPY_MAP_DATA	55790000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1752054
+SHUFFLE	COMPRESS_BYTE_COUNT	1752058
+SHUFFLE	COPY_MAP_DATA	28434000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1779813
+SHUFFLE	COMPRESS_BYTE_COUNT	1779817
+SHUFFLE	COPY_MAP_DATA	296733000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1591272
+SHUFFLE	COMPRESS_BYTE_COUNT	1591276
+SHUFFLE	COPY_MAP_DATA	107828000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1619295
+SHUFFLE	COMPRESS_BYTE_COUNT	1619299
+SHUFFLE	COPY_MAP_DATA	582062000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1918847
+SHUFFLE	COMPRESS_BYTE_COUNT	1918851
+SHUFFLE	COPY_MAP_DATA	406674000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1588276
+SHUFFLE	COMPRESS_BYTE_COUNT	1588280
+SHUFFLE	COPY_MAP_DATA	2230989000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1624021
+SHUFFLE	COMPRESS_BYTE_COUNT	1624025
+SHUFFLE	COPY_MAP_DATA	614522000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1866938
+SHUFFLE	COMPRESS_BYTE_COUNT	1866942
+SHUFFLE	COPY_MAP_DATA	23272000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1441283
+SHUFFLE	COMPRESS_BYTE_COUNT	1441287
+SHUFFLE	COPY_MAP_DATA	126735000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1599644
+SHUFFLE	COMPRESS_BYTE_COUNT	1599648
+SHUFFLE	COPY_MAP_DATA	878819000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1777246
+SHUFFLE	COMPRESS_BYTE_COUNT	1777250
+SHUFFLE	COPY_MAP_DATA	120167000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	780714
+SHUFFLE	COMPRESS_BYTE_COUNT	780718
+SHUFFLE	COPY_MAP_DATA	58508000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	926187
+SHUFFLE	COMPRESS_BYTE_COUNT	926191
+SHUFFLE	COPY_MAP_DATA	429093000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1737817
+SHUFFLE	COMPRESS_BYTE_COUNT	1737821
+SHUFFLE	COPY_MAP_DATA	15983000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1529656
+SHUFFLE	COMPRESS_BYTE_COUNT	1529660
+SHUFFLE	COPY_MAP_DATA	51382000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1414967
+SHUFFLE	COMPRESS_BYTE_COUNT	1414971
+SHUFFLE	COPY_MAP_DATA	34743000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	956092
+SHUFFLE	COMPRESS_BYTE_COUNT	956096
+SHUFFLE	COPY_MAP_DATA	18027000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	828587
+SHUFFLE	COMPRESS_BYTE_COUNT	828591
+SHUFFLE	COPY_MAP_DATA	1561058000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	832953
+SHUFFLE	COMPRESS_BYTE_COUNT	832957
+SHUFFLE	COPY_MAP_DATA	426899000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1760123
+SHUFFLE	COMPRESS_BYTE_COUNT	1760127
+SHUFFLE	COPY_MAP_DATA	59935000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1461298
+SHUFFLE	COMPRESS_BYTE_COUNT	1461302
+SHUFFLE	COPY_MAP_DATA	42605000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	987998
+SHUFFLE	COMPRESS_BYTE_COUNT	988002
+SHUFFLE	COPY_MAP_DATA	17481000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1427451
+SHUFFLE	COMPRESS_BYTE_COUNT	1427455
+SHUFFLE	COPY_MAP_DATA	22188000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	975616
+SHUFFLE	COMPRESS_BYTE_COUNT	975620
+SHUFFLE	COPY_MAP_DATA	1893812000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1655929
+SHUFFLE	COMPRESS_BYTE_COUNT	1655933
+SHUFFLE	COPY_MAP_DATA	28479000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1736290
+SHUFFLE	COMPRESS_BYTE_COUNT	1736294
+SHUFFLE	COPY_MAP_DATA	76873000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1623519
+SHUFFLE	COMPRESS_BYTE_COUNT	1623523
+SHUFFLE	COPY_MAP_DATA	27085000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1734165
+SHUFFLE	COMPRESS_BYTE_COUNT	1734169
+SHUFFLE	COPY_MAP_DATA	297471000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1612444
+SHUFFLE	COMPRESS_BYTE_COUNT	1612448
+SHUFFLE	COPY_MAP_DATA	38036000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1050910
+SHUFFLE	COMPRESS_BYTE_COUNT	1050914
+SHUFFLE	COPY_MAP_DATA	21985000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1576918
+SHUFFLE	COMPRESS_BYTE_COUNT	1576922
+SHUFFLE	COPY_MAP_DATA	220815000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	944447
+SHUFFLE	COMPRESS_BYTE_COUNT	944451
+SHUFFLE	COPY_MAP_DATA	398102000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1470274
+SHUFFLE	COMPRESS_BYTE_COUNT	1470278
+SHUFFLE	COPY_MAP_DATA	294095000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	984452
+SHUFFLE	COMPRESS_BYTE_COUNT	984456
+SHUFFLE	COPY_MAP_DATA	88069000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1685380
+SHUFFLE	COMPRESS_BYTE_COUNT	1685384
+SHUFFLE	COPY_MAP_DATA	72110000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1049665
+SHUFFLE	COMPRESS_BYTE_COUNT	1049669
+SHUFFLE	COPY_MAP_DATA	19397000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	948575
+SHUFFLE	COMPRESS_BYTE_COUNT	948579
+SHUFFLE	COPY_MAP_DATA	305093000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1180396
+SHUFFLE	COMPRESS_BYTE_COUNT	1180400
+SHUFFLE	COPY_MAP_DATA	29948000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1656950
+SHUFFLE	COMPRESS_BYTE_COUNT	1656954
+SHUFFLE	COPY_MAP_DATA	39317000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	960424
+SHUFFLE	COMPRESS_BYTE_COUNT	960428
+SHUFFLE	COPY_MAP_DATA	29955000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1671936
+SHUFFLE	COMPRESS_BYTE_COUNT	1671940
+SHUFFLE	COPY_MAP_DATA	1142111000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1649429
+SHUFFLE	COMPRESS_BYTE_COUNT	1649433
+SHUFFLE	COPY_MAP_DATA	70813000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	941016
+SHUFFLE	COMPRESS_BYTE_COUNT	941020
+SHUFFLE	COPY_MAP_DATA	153900000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	958622
+SHUFFLE	COMPRESS_BYTE_COUNT	958626
+SHUFFLE	COPY_MAP_DATA	25164000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	954484
+SHUFFLE	COMPRESS_BYTE_COUNT	954488
+SHUFFLE	COPY_MAP_DATA	54982000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1004327
+SHUFFLE	COMPRESS_BYTE_COUNT	1004331
+SHUFFLE	COPY_MAP_DATA	129093000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1023776
+SHUFFLE	COMPRESS_BYTE_COUNT	1023780
+SHUFFLE	COPY_MAP_DATA	407979000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	819386
+SHUFFLE	COMPRESS_BYTE_COUNT	819390
+SHUFFLE	COPY_MAP_DATA	174943000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	935021
+SHUFFLE	COMPRESS_BYTE_COUNT	935025
+SHUFFLE	COPY_MAP_DATA	25831000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	936206
+SHUFFLE	COMPRESS_BYTE_COUNT	936210
+SHUFFLE	COPY_MAP_DATA	28842000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	962286
+SHUFFLE	COMPRESS_BYTE_COUNT	962290
+SHUFFLE	COPY_MAP_DATA	121557000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	957968
+SHUFFLE	COMPRESS_BYTE_COUNT	957972
+SHUFFLE	COPY_MAP_DATA	26944000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	958960
+SHUFFLE	COMPRESS_BYTE_COUNT	958964
+SHUFFLE	COPY_MAP_DATA	18996000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	927171
+SHUFFLE	COMPRESS_BYTE_COUNT	927175
+SHUFFLE	COPY_MAP_DATA	88670000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	963767
+SHUFFLE	COMPRESS_BYTE_COUNT	963771
+SHUFFLE	COPY_MAP_DATA	460357000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	899197
+SHUFFLE	COMPRESS_BYTE_COUNT	899201
+SHUFFLE	COPY_MAP_DATA	51591000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	937804
+SHUFFLE	COMPRESS_BYTE_COUNT	937808
+SHUFFLE	COPY_MAP_DATA	19269000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	878915
+SHUFFLE	COMPRESS_BYTE_COUNT	878919
+SHUFFLE	COPY_MAP_DATA	494364000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	952745
+SHUFFLE	COMPRESS_BYTE_COUNT	952749
+SHUFFLE	COPY_MAP_DATA	940855000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	933774
+SHUFFLE	COMPRESS_BYTE_COUNT	933778
+SHUFFLE	COPY_MAP_DATA	15266000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	985261
+SHUFFLE	COMPRESS_BYTE_COUNT	985265
+SHUFFLE	COPY_MAP_DATA	200779000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1093603
+SHUFFLE	COMPRESS_BYTE_COUNT	1093607
+SHUFFLE	COPY_MAP_DATA	146783000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	932335
+SHUFFLE	COMPRESS_BYTE_COUNT	932339
+SHUFFLE	COPY_MAP_DATA	73094000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	976957
+SHUFFLE	COMPRESS_BYTE_COUNT	976961
+SHUFFLE	COPY_MAP_DATA	62522000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1602372
+SHUFFLE	COMPRESS_BYTE_COUNT	1602376
+SHUFFLE	COPY_MAP_DATA	9171719000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	956671
+SHUFFLE	COMPRESS_BYTE_COUNT	956675
+SHUFFLE	COPY_MAP_DATA	56418000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	931211
+SHUFFLE	COMPRESS_BYTE_COUNT	931215
+SHUFFLE	COPY_MAP_DATA	39988000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	954550
+SHUFFLE	COMPRESS_BYTE_COUNT	954554
+SHUFFLE	COPY_MAP_DATA	59684000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	953238
+SHUFFLE	COMPRESS_BYTE_COUNT	953242
+SHUFFLE	COPY_MAP_DATA	607028000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	941333
+SHUFFLE	COMPRESS_BYTE_COUNT	941337
+SHUFFLE	COPY_MAP_DATA	29244000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	950486
+SHUFFLE	COMPRESS_BYTE_COUNT	950490
+SHUFFLE	COPY_MAP_DATA	296804000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	931224
+SHUFFLE	COMPRESS_BYTE_COUNT	931228
+SHUFFLE	COPY_MAP_DATA	270687000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1018015
+SHUFFLE	COMPRESS_BYTE_COUNT	1018019
+SHUFFLE	COPY_MAP_DATA	397213000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1068083
+SHUFFLE	COMPRESS_BYTE_COUNT	1068087
+SHUFFLE	COPY_MAP_DATA	34804000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	932692
+SHUFFLE	COMPRESS_BYTE_COUNT	932696
+SHUFFLE	COPY_MAP_DATA	136799000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	904180
+SHUFFLE	COMPRESS_BYTE_COUNT	904184
+SHUFFLE	COPY_MAP_DATA	502410000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	984303
+SHUFFLE	COMPRESS_BYTE_COUNT	984307
+SHUFFLE	COPY_MAP_DATA	36979000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	973561
+SHUFFLE	COMPRESS_BYTE_COUNT	973565
+SHUFFLE	COPY_MAP_DATA	96579000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	941336
+SHUFFLE	COMPRESS_BYTE_COUNT	941340
+SHUFFLE	COPY_MAP_DATA	308428000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	916605
+SHUFFLE	COMPRESS_BYTE_COUNT	916609
+SHUFFLE	COPY_MAP_DATA	23219000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	965519
+SHUFFLE	COMPRESS_BYTE_COUNT	965523
+SHUFFLE	COPY_MAP_DATA	35426000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	924424
+SHUFFLE	COMPRESS_BYTE_COUNT	924428
+SHUFFLE	COPY_MAP_DATA	216153000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	958609
+SHUFFLE	COMPRESS_BYTE_COUNT	958613
+SHUFFLE	COPY_MAP_DATA	85040000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	992729
+SHUFFLE	COMPRESS_BYTE_COUNT	992733
+SHUFFLE	COPY_MAP_DATA	12876000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	943506
+SHUFFLE	COMPRESS_BYTE_COUNT	943510
+SHUFFLE	COPY_MAP_DATA	98114000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	961751
+SHUFFLE	COMPRESS_BYTE_COUNT	961755
+SHUFFLE	COPY_MAP_DATA	48715000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	954545
+SHUFFLE	COMPRESS_BYTE_COUNT	954549
+SHUFFLE	COPY_MAP_DATA	30072000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	966701
+SHUFFLE	COMPRESS_BYTE_COUNT	966705
+SHUFFLE	COPY_MAP_DATA	484624000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	887306
+SHUFFLE	COMPRESS_BYTE_COUNT	887310
+SHUFFLE	COPY_MAP_DATA	14800000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	929700
+SHUFFLE	COMPRESS_BYTE_COUNT	929704
+SHUFFLE	COPY_MAP_DATA	13348000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	957696
+SHUFFLE	COMPRESS_BYTE_COUNT	957700
+SHUFFLE	COPY_MAP_DATA	19704000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	877104
+SHUFFLE	COMPRESS_BYTE_COUNT	877108
+SHUFFLE	COPY_MAP_DATA	29489000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	947944
+SHUFFLE	COMPRESS_BYTE_COUNT	947948
+SHUFFLE	COPY_MAP_DATA	243069000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	922669
+SHUFFLE	COMPRESS_BYTE_COUNT	922673
+SHUFFLE	COPY_MAP_DATA	18775000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	965686
+SHUFFLE	COMPRESS_BYTE_COUNT	965690
+SHUFFLE	COPY_MAP_DATA	40926000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1035006
+SHUFFLE	COMPRESS_BYTE_COUNT	1035010
+SHUFFLE	COPY_MAP_DATA	18159000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	900738
+SHUFFLE	COMPRESS_BYTE_COUNT	900742
+SHUFFLE	COPY_MAP_DATA	49016000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	987578
+SHUFFLE	COMPRESS_BYTE_COUNT	987582
+SHUFFLE	COPY_MAP_DATA	9914000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	893289
+SHUFFLE	COMPRESS_BYTE_COUNT	893293
+SHUFFLE	COPY_MAP_DATA	151560000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	914973
+SHUFFLE	COMPRESS_BYTE_COUNT	914977
+SHUFFLE	COPY_MAP_DATA	405947000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	910323
+SHUFFLE	COMPRESS_BYTE_COUNT	910327
+SHUFFLE	COPY_MAP_DATA	18380000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	909867
+SHUFFLE	COMPRESS_BYTE_COUNT	909871
+SHUFFLE	COPY_MAP_DATA	17757000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	924922
+SHUFFLE	COMPRESS_BYTE_COUNT	924926
+SHUFFLE	COPY_MAP_DATA	78058000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	846678
+SHUFFLE	COMPRESS_BYTE_COUNT	846682
+SHUFFLE	COPY_MAP_DATA	10258000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	931440
+SHUFFLE	COMPRESS_BYTE_COUNT	931444
+SHUFFLE	COPY_MAP_DATA	45751000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	937846
+SHUFFLE	COMPRESS_BYTE_COUNT	937850
+SHUFFLE	COPY_MAP_DATA	20871000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	899610
+SHUFFLE	COMPRESS_BYTE_COUNT	899614
+SHUFFLE	COPY_MAP_DATA	112830000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	863630
+SHUFFLE	COMPRESS_BYTE_COUNT	863634
+SHUFFLE	COPY_MAP_DATA	67941000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	895193
+SHUFFLE	COMPRESS_BYTE_COUNT	895197
+SHUFFLE	COPY_MAP_DATA	30062000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	905103
+SHUFFLE	COMPRESS_BYTE_COUNT	905107
+SHUFFLE	COPY_MAP_DATA	53683000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	965308
+SHUFFLE	COMPRESS_BYTE_COUNT	965312
+SHUFFLE	COPY_MAP_DATA	19897000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	888721
+SHUFFLE	COMPRESS_BYTE_COUNT	888725
+SHUFFLE	COPY_MAP_DATA	119687000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	871044
+SHUFFLE	COMPRESS_BYTE_COUNT	871048
+SHUFFLE	COPY_MAP_DATA	96202000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	900900
+SHUFFLE	COMPRESS_BYTE_COUNT	900904
+SHUFFLE	COPY_MAP_DATA	38024000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	883631
+SHUFFLE	COMPRESS_BYTE_COUNT	883635
+SHUFFLE	COPY_MAP_DATA	26686000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	901874
+SHUFFLE	COMPRESS_BYTE_COUNT	901878
+SHUFFLE	COPY_MAP_DATA	320202000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	877144
+SHUFFLE	COMPRESS_BYTE_COUNT	877148
+SHUFFLE	COPY_MAP_DATA	9629000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	916290
+SHUFFLE	COMPRESS_BYTE_COUNT	916294
+SHUFFLE	COPY_MAP_DATA	26284000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	896417
+SHUFFLE	COMPRESS_BYTE_COUNT	896421
+SHUFFLE	COPY_MAP_DATA	164527000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	856757
+SHUFFLE	COMPRESS_BYTE_COUNT	856761
+SHUFFLE	COPY_MAP_DATA	32629000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	886500
+SHUFFLE	COMPRESS_BYTE_COUNT	886504
+SHUFFLE	COPY_MAP_DATA	69520000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	852412
+SHUFFLE	COMPRESS_BYTE_COUNT	852416
+SHUFFLE	COPY_MAP_DATA	123687000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	931262
+SHUFFLE	COMPRESS_BYTE_COUNT	931266
+SHUFFLE	COPY_MAP_DATA	69196000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	881782
+SHUFFLE	COMPRESS_BYTE_COUNT	881786
+SHUFFLE	COPY_MAP_DATA	87952000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	875737
+SHUFFLE	COMPRESS_BYTE_COUNT	875741
+SHUFFLE	COPY_MAP_DATA	17563000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	854157
+SHUFFLE	COMPRESS_BYTE_COUNT	854161
+SHUFFLE	COPY_MAP_DATA	57686000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	824893
+SHUFFLE	COMPRESS_BYTE_COUNT	824897
+SHUFFLE	COPY_MAP_DATA	1315182000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	838940
+SHUFFLE	COMPRESS_BYTE_COUNT	838944
+SHUFFLE	COPY_MAP_DATA	83982000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	872799
+SHUFFLE	COMPRESS_BYTE_COUNT	872803
+SHUFFLE	COPY_MAP_DATA	102765000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	884536
+SHUFFLE	COMPRESS_BYTE_COUNT	884540
+SHUFFLE	COPY_MAP_DATA	156992000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	877489
+SHUFFLE	COMPRESS_BYTE_COUNT	877493
+SHUFFLE	COPY_MAP_DATA	165459000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	856795
+SHUFFLE	COMPRESS_BYTE_COUNT	856799
+SHUFFLE	COPY_MAP_DATA	12291000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	753696
+SHUFFLE	COMPRESS_BYTE_COUNT	753700
+SHUFFLE	COPY_MAP_DATA	70055000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	801977
+SHUFFLE	COMPRESS_BYTE_COUNT	801981
+SHUFFLE	COPY_MAP_DATA	641276000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	837106
+SHUFFLE	COMPRESS_BYTE_COUNT	837110
+SHUFFLE	COPY_MAP_DATA	23784000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	816427
+SHUFFLE	COMPRESS_BYTE_COUNT	816431
+SHUFFLE	COPY_MAP_DATA	183914000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	927605
+SHUFFLE	COMPRESS_BYTE_COUNT	927609
+SHUFFLE	COPY_MAP_DATA	6925000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	845244
+SHUFFLE	COMPRESS_BYTE_COUNT	845248
+SHUFFLE	COPY_MAP_DATA	183918000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	817833
+SHUFFLE	COMPRESS_BYTE_COUNT	817837
+SHUFFLE	COPY_MAP_DATA	201878000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	828147
+SHUFFLE	COMPRESS_BYTE_COUNT	828151
+SHUFFLE	COPY_MAP_DATA	87112000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	865710
+SHUFFLE	COMPRESS_BYTE_COUNT	865714
+SHUFFLE	COPY_MAP_DATA	68123000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	977348
+SHUFFLE	COMPRESS_BYTE_COUNT	977352
+SHUFFLE	COPY_MAP_DATA	876571000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	787569
+SHUFFLE	COMPRESS_BYTE_COUNT	787573
+SHUFFLE	COPY_MAP_DATA	100361000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	831882
+SHUFFLE	COMPRESS_BYTE_COUNT	831886
+SHUFFLE	COPY_MAP_DATA	23206000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	821185
+SHUFFLE	COMPRESS_BYTE_COUNT	821189
+SHUFFLE	COPY_MAP_DATA	133313000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	813545
+SHUFFLE	COMPRESS_BYTE_COUNT	813549
+SHUFFLE	COPY_MAP_DATA	48447000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	865986
+SHUFFLE	COMPRESS_BYTE_COUNT	865990
+SHUFFLE	COPY_MAP_DATA	247099000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	702491
+SHUFFLE	COMPRESS_BYTE_COUNT	702495
+SHUFFLE	COPY_MAP_DATA	95665000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	843554
+SHUFFLE	COMPRESS_BYTE_COUNT	843558
+SHUFFLE	COPY_MAP_DATA	72084000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	745788
+SHUFFLE	COMPRESS_BYTE_COUNT	745792
+SHUFFLE	COPY_MAP_DATA	132239000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	829084
+SHUFFLE	COMPRESS_BYTE_COUNT	829088
+SHUFFLE	COPY_MAP_DATA	208404000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	874624
+SHUFFLE	COMPRESS_BYTE_COUNT	874628
+SHUFFLE	COPY_MAP_DATA	113352000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	821951
+SHUFFLE	COMPRESS_BYTE_COUNT	821955
+SHUFFLE	COPY_MAP_DATA	5814062000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	857858
+SHUFFLE	COMPRESS_BYTE_COUNT	857862
+SHUFFLE	COPY_MAP_DATA	97940000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	867155
+SHUFFLE	COMPRESS_BYTE_COUNT	867159
+SHUFFLE	COPY_MAP_DATA	37590000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	829814
+SHUFFLE	COMPRESS_BYTE_COUNT	829818
+SHUFFLE	COPY_MAP_DATA	16625000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	988462
+SHUFFLE	COMPRESS_BYTE_COUNT	988466
+SHUFFLE	COPY_MAP_DATA	32128000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	793893
+SHUFFLE	COMPRESS_BYTE_COUNT	793897
+SHUFFLE	COPY_MAP_DATA	206566000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1002728
+SHUFFLE	COMPRESS_BYTE_COUNT	1002732
+SHUFFLE	COPY_MAP_DATA	312775000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	740679
+SHUFFLE	COMPRESS_BYTE_COUNT	740683
+SHUFFLE	COPY_MAP_DATA	72606000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	753160
+SHUFFLE	COMPRESS_BYTE_COUNT	753164
+SHUFFLE	COPY_MAP_DATA	77375000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	807848
+SHUFFLE	COMPRESS_BYTE_COUNT	807852
+SHUFFLE	COPY_MAP_DATA	34333000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	862586
+SHUFFLE	COMPRESS_BYTE_COUNT	862590
+SHUFFLE	COPY_MAP_DATA	73405000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	921957
+SHUFFLE	COMPRESS_BYTE_COUNT	921961
+SHUFFLE	COPY_MAP_DATA	23700000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	821405
+SHUFFLE	COMPRESS_BYTE_COUNT	821409
+SHUFFLE	COPY_MAP_DATA	11179000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	915571
+SHUFFLE	COMPRESS_BYTE_COUNT	915575
+SHUFFLE	COPY_MAP_DATA	733495000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	829002
+SHUFFLE	COMPRESS_BYTE_COUNT	829006
+SHUFFLE	COPY_MAP_DATA	122674000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	899609
+SHUFFLE	COMPRESS_BYTE_COUNT	899613
+SHUFFLE	COPY_MAP_DATA	89995000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	820026
+SHUFFLE	COMPRESS_BYTE_COUNT	820030
+SHUFFLE	COPY_MAP_DATA	43493000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	744358
+SHUFFLE	COMPRESS_BYTE_COUNT	744362
+SHUFFLE	COPY_MAP_DATA	38091000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	744372
+SHUFFLE	COMPRESS_BYTE_COUNT	744376
+SHUFFLE	COPY_MAP_DATA	119175000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	858007
+SHUFFLE	COMPRESS_BYTE_COUNT	858011
+SHUFFLE	COPY_MAP_DATA	285743000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	790734
+SHUFFLE	COMPRESS_BYTE_COUNT	790738
+SHUFFLE	COPY_MAP_DATA	23509000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	852447
+SHUFFLE	COMPRESS_BYTE_COUNT	852451
+SHUFFLE	COPY_MAP_DATA	109435000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	756528
+SHUFFLE	COMPRESS_BYTE_COUNT	756532
+SHUFFLE	COPY_MAP_DATA	48306000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	770089
+SHUFFLE	COMPRESS_BYTE_COUNT	770093
+SHUFFLE	COPY_MAP_DATA	318860000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	781543
+SHUFFLE	COMPRESS_BYTE_COUNT	781547
+SHUFFLE	COPY_MAP_DATA	72836000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	771397
+SHUFFLE	COMPRESS_BYTE_COUNT	771401
+SHUFFLE	COPY_MAP_DATA	96791000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	774480
+SHUFFLE	COMPRESS_BYTE_COUNT	774484
+SHUFFLE	COPY_MAP_DATA	11463000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	741649
+SHUFFLE	COMPRESS_BYTE_COUNT	741653
+SHUFFLE	COPY_MAP_DATA	48776000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	877457
+SHUFFLE	COMPRESS_BYTE_COUNT	877461
+SHUFFLE	COPY_MAP_DATA	41953000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	754362
+SHUFFLE	COMPRESS_BYTE_COUNT	754366
+SHUFFLE	COPY_MAP_DATA	686902000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	842332
+SHUFFLE	COMPRESS_BYTE_COUNT	842336
+SHUFFLE	COPY_MAP_DATA	50462000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1068991
+SHUFFLE	COMPRESS_BYTE_COUNT	1068995
+SHUFFLE	COPY_MAP_DATA	19488000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	756300
+SHUFFLE	COMPRESS_BYTE_COUNT	756304
+SHUFFLE	COPY_MAP_DATA	29644000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1124107
+SHUFFLE	COMPRESS_BYTE_COUNT	1124111
+SHUFFLE	COPY_MAP_DATA	228027000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	869397
+SHUFFLE	COMPRESS_BYTE_COUNT	869401
+SHUFFLE	COPY_MAP_DATA	110616000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	951369
+SHUFFLE	COMPRESS_BYTE_COUNT	951373
+SHUFFLE	COPY_MAP_DATA	189405000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	874939
+SHUFFLE	COMPRESS_BYTE_COUNT	874943
+SHUFFLE	COPY_MAP_DATA	49855000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	750667
+SHUFFLE	COMPRESS_BYTE_COUNT	750671
+SHUFFLE	COPY_MAP_DATA	229088000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	682873
+SHUFFLE	COMPRESS_BYTE_COUNT	682877
+SHUFFLE	COPY_MAP_DATA	11398000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	751538
+SHUFFLE	COMPRESS_BYTE_COUNT	751542
+SHUFFLE	COPY_MAP_DATA	69077000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	746749
+SHUFFLE	COMPRESS_BYTE_COUNT	746753
+SHUFFLE	COPY_MAP_DATA	18699000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	747293
+SHUFFLE	COMPRESS_BYTE_COUNT	747297
+SHUFFLE	COPY_MAP_DATA	1770654000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	794618
+SHUFFLE	COMPRESS_BYTE_COUNT	794622
+SHUFFLE	COPY_MAP_DATA	3636564000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	753588
+SHUFFLE	COMPRESS_BYTE_COUNT	753592
+SHUFFLE	COPY_MAP_DATA	18592000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	777362
+SHUFFLE	COMPRESS_BYTE_COUNT	777366
+SHUFFLE	COPY_MAP_DATA	87496000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	746342
+SHUFFLE	COMPRESS_BYTE_COUNT	746346
+SHUFFLE	COPY_MAP_DATA	95465000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	926733
+SHUFFLE	COMPRESS_BYTE_COUNT	926737
+SHUFFLE	COPY_MAP_DATA	2382670000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	769877
+SHUFFLE	COMPRESS_BYTE_COUNT	769881
+SHUFFLE	COPY_MAP_DATA	18819000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	830808
+SHUFFLE	COMPRESS_BYTE_COUNT	830812
+SHUFFLE	COPY_MAP_DATA	14173000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	854146
+SHUFFLE	COMPRESS_BYTE_COUNT	854150
+SHUFFLE	COPY_MAP_DATA	51210000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	785305
+SHUFFLE	COMPRESS_BYTE_COUNT	785309
+SHUFFLE	COPY_MAP_DATA	904362000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	783450
+SHUFFLE	COMPRESS_BYTE_COUNT	783454
+SHUFFLE	COPY_MAP_DATA	53982000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	720228
+SHUFFLE	COMPRESS_BYTE_COUNT	720232
+SHUFFLE	COPY_MAP_DATA	52489000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	860567
+SHUFFLE	COMPRESS_BYTE_COUNT	860571
+SHUFFLE	COPY_MAP_DATA	167180000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	919625
+SHUFFLE	COMPRESS_BYTE_COUNT	919629
+SHUFFLE	COPY_MAP_DATA	1530599000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	770154
+SHUFFLE	COMPRESS_BYTE_COUNT	770158
+SHUFFLE	COPY_MAP_DATA	229361000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	862620
+SHUFFLE	COMPRESS_BYTE_COUNT	862624
+SHUFFLE	COPY_MAP_DATA	114141000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	712730
+SHUFFLE	COMPRESS_BYTE_COUNT	712734
+SHUFFLE	COPY_MAP_DATA	206042000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	793739
+SHUFFLE	COMPRESS_BYTE_COUNT	793743
+SHUFFLE	COPY_MAP_DATA	48347000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	826144
+SHUFFLE	COMPRESS_BYTE_COUNT	826148
+SHUFFLE	COPY_MAP_DATA	2133252000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	721098
+SHUFFLE	COMPRESS_BYTE_COUNT	721102
+SHUFFLE	COPY_MAP_DATA	143960000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	861272
+SHUFFLE	COMPRESS_BYTE_COUNT	861276
+SHUFFLE	COPY_MAP_DATA	17740000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	803495
+SHUFFLE	COMPRESS_BYTE_COUNT	803499
+SHUFFLE	COPY_MAP_DATA	41307000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	783570
+SHUFFLE	COMPRESS_BYTE_COUNT	783574
+SHUFFLE	COPY_MAP_DATA	6910410666
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1171556
+SHUFFLE	COMPRESS_BYTE_COUNT	1171560
+SHUFFLE	COPY_MAP_DATA	44494000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	668220
+SHUFFLE	COMPRESS_BYTE_COUNT	668224
+SHUFFLE	COPY_MAP_DATA	18083000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	874549
+SHUFFLE	COMPRESS_BYTE_COUNT	874553
+SHUFFLE	COPY_MAP_DATA	119198000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	742231
+SHUFFLE	COMPRESS_BYTE_COUNT	742235
+SHUFFLE	COPY_MAP_DATA	22737000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	712730
+SHUFFLE	COMPRESS_BYTE_COUNT	712734
+SHUFFLE	COPY_MAP_DATA	17689000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	795581
+SHUFFLE	COMPRESS_BYTE_COUNT	795585
+SHUFFLE	COPY_MAP_DATA	149024000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	839493
+SHUFFLE	COMPRESS_BYTE_COUNT	839497
+SHUFFLE	COPY_MAP_DATA	40075000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	867478
+SHUFFLE	COMPRESS_BYTE_COUNT	867482
+SHUFFLE	COPY_MAP_DATA	227887000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	846785
+SHUFFLE	COMPRESS_BYTE_COUNT	846789
+SHUFFLE	COPY_MAP_DATA	79476000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	888368
+SHUFFLE	COMPRESS_BYTE_COUNT	888372
+SHUFFLE	COPY_MAP_DATA	17212000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	654664
+SHUFFLE	COMPRESS_BYTE_COUNT	654668
+SHUFFLE	COPY_MAP_DATA	14105000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	871833
+SHUFFLE	COMPRESS_BYTE_COUNT	871837
+SHUFFLE	COPY_MAP_DATA	152243000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	809559
+SHUFFLE	COMPRESS_BYTE_COUNT	809563
+SHUFFLE	COPY_MAP_DATA	30095000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	817904
+SHUFFLE	COMPRESS_BYTE_COUNT	817908
+SHUFFLE	COPY_MAP_DATA	18050000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	777079
+SHUFFLE	COMPRESS_BYTE_COUNT	777083
+SHUFFLE	COPY_MAP_DATA	255772000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	829492
+SHUFFLE	COMPRESS_BYTE_COUNT	829496
+SHUFFLE	COPY_MAP_DATA	11509000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	688125
+SHUFFLE	COMPRESS_BYTE_COUNT	688129
+SHUFFLE	COPY_MAP_DATA	14968000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	751174
+SHUFFLE	COMPRESS_BYTE_COUNT	751178
+SHUFFLE	COPY_MAP_DATA	10559000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	793311
+SHUFFLE	COMPRESS_BYTE_COUNT	793315
+SHUFFLE	COPY_MAP_DATA	44279000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	719651
+SHUFFLE	COMPRESS_BYTE_COUNT	719655
+SHUFFLE	COPY_MAP_DATA	162212000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	810588
+SHUFFLE	COMPRESS_BYTE_COUNT	810592
+SHUFFLE	COPY_MAP_DATA	18734000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	791786
+SHUFFLE	COMPRESS_BYTE_COUNT	791790
+SHUFFLE	COPY_MAP_DATA	145435000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	793413
+SHUFFLE	COMPRESS_BYTE_COUNT	793417
+SHUFFLE	COPY_MAP_DATA	104259000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	872352
+SHUFFLE	COMPRESS_BYTE_COUNT	872356
+SHUFFLE	COPY_MAP_DATA	39915000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	631872
+SHUFFLE	COMPRESS_BYTE_COUNT	631876
+SHUFFLE	COPY_MAP_DATA	24329000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	920632
+SHUFFLE	COMPRESS_BYTE_COUNT	920636
+SHUFFLE	COPY_MAP_DATA	17661000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	728045
+SHUFFLE	COMPRESS_BYTE_COUNT	728049
+SHUFFLE	COPY_MAP_DATA	8835000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	810916
+SHUFFLE	COMPRESS_BYTE_COUNT	810920
+SHUFFLE	COPY_MAP_DATA	16106000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	477907
+SHUFFLE	COMPRESS_BYTE_COUNT	477911
+SHUFFLE	COPY_MAP_DATA	13343000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	963703
+SHUFFLE	COMPRESS_BYTE_COUNT	963707
+SHUFFLE	COPY_MAP_DATA	15332000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	864770
+SHUFFLE	COMPRESS_BYTE_COUNT	864774
+SHUFFLE	COPY_MAP_DATA	16427000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	748773
+SHUFFLE	COMPRESS_BYTE_COUNT	748777
+SHUFFLE	COPY_MAP_DATA	16931000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	146759332152
+MERGE	READ_WRITE	146196638152
+MERGE	READ_WRITE_COUNT	2
+MERGE	COMBINE	0
+MERGE	WRITE	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	20496121667
+SORT	READ_WRITE	19912528667
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	154751576
+REDUCE	SETUP	366000
+REDUCE	SETUP_MEM	154751576
+REDUCE	CLEANUP	42000
+REDUCE	CLEANUP_MEM	129496696
+REDUCE	TOTAL_RUN	166910679333
+REDUCE	READ	18336975666
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	140004381667
+REDUCE	WRITE	40059500000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	68875317
+REDUCE	VALUE_BYTE_COUNT	63095531
+REDUCE	REDUCE_MEM	129498744
+REDUCE	WRITE	30073000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	715835695998
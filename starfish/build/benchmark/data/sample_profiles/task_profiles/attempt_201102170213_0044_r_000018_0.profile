@@ -0,0 +1,1333 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1627012
+SHUFFLE	COMPRESS_BYTE_COUNT	1627016
+SHUFFLE	COPY_MAP_DATA	2043366000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1995903
+SHUFFLE	COMPRESS_BYTE_COUNT	1995907
+SHUFFLE	COPY_MAP_DATA	207157000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1798333
+SHUFFLE	COMPRESS_BYTE_COUNT	1798337
+SHUFFLE	COPY_MAP_DATA	143117000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1694393
+SHUFFLE	COMPRESS_BYTE_COUNT	1694397
+SHUFFLE	COPY_MAP_DATA	31120000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1924737
+SHUFFLE	COMPRESS_BYTE_COUNT	1924741
+SHUFFLE	COPY_MAP_DATA	35977000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1969629
+SHUFFLE	COMPRESS_BYTE_COUNT	1969633
+SHUFFLE	COPY_MAP_DATA	141390000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1944209
+SHUFFLE	COMPRESS_BYTE_COUNT	1944213
+SHUFFLE	COPY_MAP_DATA	120918000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1998486
+SHUFFLE	COMPRESS_BYTE_COUNT	1998490
+SHUFFLE	COPY_MAP_DATA	142143000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1880463
+SHUFFLE	COMPRESS_BYTE_COUNT	1880467
+SHUFFLE	COPY_MAP_DATA	38321000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1845077
+SHUFFLE	COMPRESS_BYTE_COUNT	1845081
+SHUFFLE	COPY_MAP_DATA	113664000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1904076
+SHUFFLE	COMPRESS_BYTE_COUNT	1904080
+SHUFFLE	COPY_MAP_DATA	283937000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1793795
+SHUFFLE	COMPRESS_BYTE_COUNT	1793799
+SHUFFLE	COPY_MAP_DATA	40704000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1754936
+SHUFFLE	COMPRESS_BYTE_COUNT	1754940
+SHUFFLE	COPY_MAP_DATA	166769000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1868026
+SHUFFLE	COMPRESS_BYTE_COUNT	1868030
+SHUFFLE	COPY_MAP_DATA	31309000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1905577
+SHUFFLE	COMPRESS_BYTE_COUNT	1905581
+SHUFFLE	COPY_MAP_DATA	126050000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1894282
+SHUFFLE	COMPRESS_BYTE_COUNT	1894286
+SHUFFLE	COPY_MAP_DATA	42332000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1986306
+SHUFFLE	COMPRESS_BYTE_COUNT	1986310
+SHUFFLE	COPY_MAP_DATA	90544000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2067539
+SHUFFLE	COMPRESS_BYTE_COUNT	2067543
+SHUFFLE	COPY_MAP_DATA	44311000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1829755
+SHUFFLE	COMPRESS_BYTE_COUNT	1829759
+SHUFFLE	COPY_MAP_DATA	24831000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1872524
+SHUFFLE	COMPRESS_BYTE_COUNT	1872528
+SHUFFLE	COPY_MAP_DATA	128020000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2000739
+SHUFFLE	COMPRESS_BYTE_COUNT	2000743
+SHUFFLE	COPY_MAP_DATA	26083000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1936848
+SHUFFLE	COMPRESS_BYTE_COUNT	1936852
+SHUFFLE	COPY_MAP_DATA	24926000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1786279
+SHUFFLE	COMPRESS_BYTE_COUNT	1786283
+SHUFFLE	COPY_MAP_DATA	32103000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1791473
+SHUFFLE	COMPRESS_BYTE_COUNT	1791477
+SHUFFLE	COPY_MAP_DATA	41803000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2076990
+SHUFFLE	COMPRESS_BYTE_COUNT	2076994
+SHUFFLE	COPY_MAP_DATA	27252000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1886926
+SHUFFLE	COMPRESS_BYTE_COUNT	1886930
+SHUFFLE	COPY_MAP_DATA	165954000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1920614
+SHUFFLE	COMPRESS_BYTE_COUNT	1920618
+SHUFFLE	COPY_MAP_DATA	125595000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1871190
+SHUFFLE	COMPRESS_BYTE_COUNT	1871194
+SHUFFLE	COPY_MAP_DATA	93692000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1874324
+SHUFFLE	COMPRESS_BYTE_COUNT	1874328
+SHUFFLE	COPY_MAP_DATA	103942000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1947468
+SHUFFLE	COMPRESS_BYTE_COUNT	1947472
+SHUFFLE	COPY_MAP_DATA	1600097000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1807773
+SHUFFLE	COMPRESS_BYTE_COUNT	1807777
+SHUFFLE	COPY_MAP_DATA	370190000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1942227
+SHUFFLE	COMPRESS_BYTE_COUNT	1942231
+SHUFFLE	COPY_MAP_DATA	6781921000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1774136
+SHUFFLE	COMPRESS_BYTE_COUNT	1774140
+SHUFFLE	COPY_MAP_DATA	1200663000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1864442
+SHUFFLE	COMPRESS_BYTE_COUNT	1864446
+SHUFFLE	COPY_MAP_DATA	3307341000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1938031
+SHUFFLE	COMPRESS_BYTE_COUNT	1938035
+SHUFFLE	COPY_MAP_DATA	208496000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1744007
+SHUFFLE	COMPRESS_BYTE_COUNT	1744011
+SHUFFLE	COPY_MAP_DATA	35950000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1695149
+SHUFFLE	COMPRESS_BYTE_COUNT	1695153
+SHUFFLE	COPY_MAP_DATA	206485000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1767211
+SHUFFLE	COMPRESS_BYTE_COUNT	1767215
+SHUFFLE	COPY_MAP_DATA	527247000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1616837
+SHUFFLE	COMPRESS_BYTE_COUNT	1616841
+SHUFFLE	COPY_MAP_DATA	38861000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1792609
+SHUFFLE	COMPRESS_BYTE_COUNT	1792613
+SHUFFLE	COPY_MAP_DATA	43483000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1831821
+SHUFFLE	COMPRESS_BYTE_COUNT	1831825
+SHUFFLE	COPY_MAP_DATA	109111000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1927166
+SHUFFLE	COMPRESS_BYTE_COUNT	1927170
+SHUFFLE	COPY_MAP_DATA	100182000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1807011
+SHUFFLE	COMPRESS_BYTE_COUNT	1807015
+SHUFFLE	COPY_MAP_DATA	34042000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1630717
+SHUFFLE	COMPRESS_BYTE_COUNT	1630721
+SHUFFLE	COPY_MAP_DATA	457030000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1900205
+SHUFFLE	COMPRESS_BYTE_COUNT	1900209
+SHUFFLE	COPY_MAP_DATA	315501000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1705626
+SHUFFLE	COMPRESS_BYTE_COUNT	1705630
+SHUFFLE	COPY_MAP_DATA	77431000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1835268
+SHUFFLE	COMPRESS_BYTE_COUNT	1835272
+SHUFFLE	COPY_MAP_DATA	88939000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1748116
+SHUFFLE	COMPRESS_BYTE_COUNT	1748120
+SHUFFLE	COPY_MAP_DATA	128579000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1654731
+SHUFFLE	COMPRESS_BYTE_COUNT	1654735
+SHUFFLE	COPY_MAP_DATA	28676000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1860231
+SHUFFLE	COMPRESS_BYTE_COUNT	1860235
+SHUFFLE	COPY_MAP_DATA	232644000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1813214
+SHUFFLE	COMPRESS_BYTE_COUNT	1813218
+SHUFFLE	COPY_MAP_DATA	53568000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1771100
+SHUFFLE	COMPRESS_BYTE_COUNT	1771104
+SHUFFLE	COPY_MAP_DATA	413537000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1538630
+SHUFFLE	COMPRESS_BYTE_COUNT	1538634
+SHUFFLE	COPY_MAP_DATA	20275000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1644347
+SHUFFLE	COMPRESS_BYTE_COUNT	1644351
+SHUFFLE	COPY_MAP_DATA	25046000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1711225
+SHUFFLE	COMPRESS_BYTE_COUNT	1711229
+SHUFFLE	COPY_MAP_DATA	25030000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1860096
+SHUFFLE	COMPRESS_BYTE_COUNT	1860100
+SHUFFLE	COPY_MAP_DATA	187314000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1773791
+SHUFFLE	COMPRESS_BYTE_COUNT	1773795
+SHUFFLE	COPY_MAP_DATA	904875000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1793220
+SHUFFLE	COMPRESS_BYTE_COUNT	1793224
+SHUFFLE	COPY_MAP_DATA	243099000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1691262
+SHUFFLE	COMPRESS_BYTE_COUNT	1691266
+SHUFFLE	COPY_MAP_DATA	1867007000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1671402
+SHUFFLE	COMPRESS_BYTE_COUNT	1671406
+SHUFFLE	COPY_MAP_DATA	556926000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1864002
+SHUFFLE	COMPRESS_BYTE_COUNT	1864006
+SHUFFLE	COPY_MAP_DATA	119049000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1553321
+SHUFFLE	COMPRESS_BYTE_COUNT	1553325
+SHUFFLE	COPY_MAP_DATA	147231000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1712124
+SHUFFLE	COMPRESS_BYTE_COUNT	1712128
+SHUFFLE	COPY_MAP_DATA	39098000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1542311
+SHUFFLE	COMPRESS_BYTE_COUNT	1542315
+SHUFFLE	COPY_MAP_DATA	1724421000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1651878
+SHUFFLE	COMPRESS_BYTE_COUNT	1651882
+SHUFFLE	COPY_MAP_DATA	528335000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1574737
+SHUFFLE	COMPRESS_BYTE_COUNT	1574741
+SHUFFLE	COPY_MAP_DATA	54307000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1639398
+SHUFFLE	COMPRESS_BYTE_COUNT	1639402
+SHUFFLE	COPY_MAP_DATA	26579000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1656506
+SHUFFLE	COMPRESS_BYTE_COUNT	1656510
+SHUFFLE	COPY_MAP_DATA	56993000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1785215
+SHUFFLE	COMPRESS_BYTE_COUNT	1785219
+SHUFFLE	COPY_MAP_DATA	76819000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1599939
+SHUFFLE	COMPRESS_BYTE_COUNT	1599943
+SHUFFLE	COPY_MAP_DATA	235072000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1659137
+SHUFFLE	COMPRESS_BYTE_COUNT	1659141
+SHUFFLE	COPY_MAP_DATA	11170591000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1589514
+SHUFFLE	COMPRESS_BYTE_COUNT	1589518
+SHUFFLE	COPY_MAP_DATA	310352000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1846582
+SHUFFLE	COMPRESS_BYTE_COUNT	1846586
+SHUFFLE	COPY_MAP_DATA	40777000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1539577
+SHUFFLE	COMPRESS_BYTE_COUNT	1539581
+SHUFFLE	COPY_MAP_DATA	63983000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1613317
+SHUFFLE	COMPRESS_BYTE_COUNT	1613321
+SHUFFLE	COPY_MAP_DATA	41006000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2174227
+SHUFFLE	COMPRESS_BYTE_COUNT	2174231
+SHUFFLE	COPY_MAP_DATA	131949000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1628386
+SHUFFLE	COMPRESS_BYTE_COUNT	1628390
+SHUFFLE	COPY_MAP_DATA	727934000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1512796
+SHUFFLE	COMPRESS_BYTE_COUNT	1512800
+SHUFFLE	COPY_MAP_DATA	200960000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1775181
+SHUFFLE	COMPRESS_BYTE_COUNT	1775185
+SHUFFLE	COPY_MAP_DATA	720133000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1656521
+SHUFFLE	COMPRESS_BYTE_COUNT	1656525
+SHUFFLE	COPY_MAP_DATA	1472192000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1727708
+SHUFFLE	COMPRESS_BYTE_COUNT	1727712
+SHUFFLE	COPY_MAP_DATA	1676028000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1470581
+SHUFFLE	COMPRESS_BYTE_COUNT	1470585
+SHUFFLE	COPY_MAP_DATA	294692000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1748832
+SHUFFLE	COMPRESS_BYTE_COUNT	1748836
+SHUFFLE	COPY_MAP_DATA	48192000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1631488
+SHUFFLE	COMPRESS_BYTE_COUNT	1631492
+SHUFFLE	COPY_MAP_DATA	587121000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1543859
+SHUFFLE	COMPRESS_BYTE_COUNT	1543863
+SHUFFLE	COPY_MAP_DATA	204424000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1735802
+SHUFFLE	COMPRESS_BYTE_COUNT	1735806
+SHUFFLE	COPY_MAP_DATA	272289000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1450674
+SHUFFLE	COMPRESS_BYTE_COUNT	1450678
+SHUFFLE	COPY_MAP_DATA	53351000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1729011
+SHUFFLE	COMPRESS_BYTE_COUNT	1729015
+SHUFFLE	COPY_MAP_DATA	74111000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1752194
+SHUFFLE	COMPRESS_BYTE_COUNT	1752198
+SHUFFLE	COPY_MAP_DATA	158444000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	786962
+SHUFFLE	COMPRESS_BYTE_COUNT	786966
+SHUFFLE	COPY_MAP_DATA	708720000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	894576
+SHUFFLE	COMPRESS_BYTE_COUNT	894580
+SHUFFLE	COPY_MAP_DATA	637185000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1568769
+SHUFFLE	COMPRESS_BYTE_COUNT	1568773
+SHUFFLE	COPY_MAP_DATA	199205000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1662552
+SHUFFLE	COMPRESS_BYTE_COUNT	1662556
+SHUFFLE	COPY_MAP_DATA	263606000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1514198
+SHUFFLE	COMPRESS_BYTE_COUNT	1514202
+SHUFFLE	COPY_MAP_DATA	24308000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	950345
+SHUFFLE	COMPRESS_BYTE_COUNT	950349
+SHUFFLE	COPY_MAP_DATA	27906000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1787325
+SHUFFLE	COMPRESS_BYTE_COUNT	1787329
+SHUFFLE	COPY_MAP_DATA	29760000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	840052
+SHUFFLE	COMPRESS_BYTE_COUNT	840056
+SHUFFLE	COPY_MAP_DATA	19036000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	799819
+SHUFFLE	COMPRESS_BYTE_COUNT	799823
+SHUFFLE	COPY_MAP_DATA	35766000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1526447
+SHUFFLE	COMPRESS_BYTE_COUNT	1526451
+SHUFFLE	COPY_MAP_DATA	46373000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	975349
+SHUFFLE	COMPRESS_BYTE_COUNT	975353
+SHUFFLE	COPY_MAP_DATA	19517000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1366026
+SHUFFLE	COMPRESS_BYTE_COUNT	1366030
+SHUFFLE	COPY_MAP_DATA	22163000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	978103
+SHUFFLE	COMPRESS_BYTE_COUNT	978107
+SHUFFLE	COPY_MAP_DATA	1037453000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1934740
+SHUFFLE	COMPRESS_BYTE_COUNT	1934744
+SHUFFLE	COPY_MAP_DATA	603660000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1622788
+SHUFFLE	COMPRESS_BYTE_COUNT	1622792
+SHUFFLE	COPY_MAP_DATA	70757000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1548179
+SHUFFLE	COMPRESS_BYTE_COUNT	1548183
+SHUFFLE	COPY_MAP_DATA	28216000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1031281
+SHUFFLE	COMPRESS_BYTE_COUNT	1031285
+SHUFFLE	COPY_MAP_DATA	18470000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1765070
+SHUFFLE	COMPRESS_BYTE_COUNT	1765074
+SHUFFLE	COPY_MAP_DATA	33788000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	931387
+SHUFFLE	COMPRESS_BYTE_COUNT	931391
+SHUFFLE	COPY_MAP_DATA	69642000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1764980
+SHUFFLE	COMPRESS_BYTE_COUNT	1764984
+SHUFFLE	COPY_MAP_DATA	152970000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1635916
+SHUFFLE	COMPRESS_BYTE_COUNT	1635920
+SHUFFLE	COPY_MAP_DATA	132873000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1822081
+SHUFFLE	COMPRESS_BYTE_COUNT	1822085
+SHUFFLE	COPY_MAP_DATA	54874000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1546868
+SHUFFLE	COMPRESS_BYTE_COUNT	1546872
+SHUFFLE	COPY_MAP_DATA	59311000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1421930
+SHUFFLE	COMPRESS_BYTE_COUNT	1421934
+SHUFFLE	COPY_MAP_DATA	1315944000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	938350
+SHUFFLE	COMPRESS_BYTE_COUNT	938354
+SHUFFLE	COPY_MAP_DATA	307565000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	974192
+SHUFFLE	COMPRESS_BYTE_COUNT	974196
+SHUFFLE	COPY_MAP_DATA	151356000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1777735
+SHUFFLE	COMPRESS_BYTE_COUNT	1777739
+SHUFFLE	COPY_MAP_DATA	947654000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	941999
+SHUFFLE	COMPRESS_BYTE_COUNT	942003
+SHUFFLE	COPY_MAP_DATA	918588000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1713032
+SHUFFLE	COMPRESS_BYTE_COUNT	1713036
+SHUFFLE	COPY_MAP_DATA	1007756000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1010959
+SHUFFLE	COMPRESS_BYTE_COUNT	1010963
+SHUFFLE	COPY_MAP_DATA	7052000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1758068
+SHUFFLE	COMPRESS_BYTE_COUNT	1758072
+SHUFFLE	COPY_MAP_DATA	156280000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	960099
+SHUFFLE	COMPRESS_BYTE_COUNT	960103
+SHUFFLE	COPY_MAP_DATA	289509000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	978478
+SHUFFLE	COMPRESS_BYTE_COUNT	978482
+SHUFFLE	COPY_MAP_DATA	231853000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	969626
+SHUFFLE	COMPRESS_BYTE_COUNT	969630
+SHUFFLE	COPY_MAP_DATA	68161000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1000137
+SHUFFLE	COMPRESS_BYTE_COUNT	1000141
+SHUFFLE	COPY_MAP_DATA	358928000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1022263
+SHUFFLE	COMPRESS_BYTE_COUNT	1022267
+SHUFFLE	COPY_MAP_DATA	395374000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	835936
+SHUFFLE	COMPRESS_BYTE_COUNT	835940
+SHUFFLE	COPY_MAP_DATA	17301000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	978516
+SHUFFLE	COMPRESS_BYTE_COUNT	978520
+SHUFFLE	COPY_MAP_DATA	134954000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	969367
+SHUFFLE	COMPRESS_BYTE_COUNT	969371
+SHUFFLE	COPY_MAP_DATA	193716000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	958311
+SHUFFLE	COMPRESS_BYTE_COUNT	958315
+SHUFFLE	COPY_MAP_DATA	22169000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	901528
+SHUFFLE	COMPRESS_BYTE_COUNT	901532
+SHUFFLE	COPY_MAP_DATA	18261000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	966428
+SHUFFLE	COMPRESS_BYTE_COUNT	966432
+SHUFFLE	COPY_MAP_DATA	73175000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	898107
+SHUFFLE	COMPRESS_BYTE_COUNT	898111
+SHUFFLE	COPY_MAP_DATA	245935000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	951382
+SHUFFLE	COMPRESS_BYTE_COUNT	951386
+SHUFFLE	COPY_MAP_DATA	242216000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	970454
+SHUFFLE	COMPRESS_BYTE_COUNT	970458
+SHUFFLE	COPY_MAP_DATA	197461000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	976219
+SHUFFLE	COMPRESS_BYTE_COUNT	976223
+SHUFFLE	COPY_MAP_DATA	285505000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	856336
+SHUFFLE	COMPRESS_BYTE_COUNT	856340
+SHUFFLE	COPY_MAP_DATA	1201997000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	952696
+SHUFFLE	COMPRESS_BYTE_COUNT	952700
+SHUFFLE	COPY_MAP_DATA	17534000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	977103
+SHUFFLE	COMPRESS_BYTE_COUNT	977107
+SHUFFLE	COPY_MAP_DATA	55056000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	979027
+SHUFFLE	COMPRESS_BYTE_COUNT	979031
+SHUFFLE	COPY_MAP_DATA	66585000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1528581
+SHUFFLE	COMPRESS_BYTE_COUNT	1528585
+SHUFFLE	COPY_MAP_DATA	9397751000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1035806
+SHUFFLE	COMPRESS_BYTE_COUNT	1035810
+SHUFFLE	COPY_MAP_DATA	38203000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	971775
+SHUFFLE	COMPRESS_BYTE_COUNT	971779
+SHUFFLE	COPY_MAP_DATA	23080000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1076855
+SHUFFLE	COMPRESS_BYTE_COUNT	1076859
+SHUFFLE	COPY_MAP_DATA	83470000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	962721
+SHUFFLE	COMPRESS_BYTE_COUNT	962725
+SHUFFLE	COPY_MAP_DATA	60003000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	946472
+SHUFFLE	COMPRESS_BYTE_COUNT	946476
+SHUFFLE	COPY_MAP_DATA	129621000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	967226
+SHUFFLE	COMPRESS_BYTE_COUNT	967230
+SHUFFLE	COPY_MAP_DATA	68970000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	959747
+SHUFFLE	COMPRESS_BYTE_COUNT	959751
+SHUFFLE	COPY_MAP_DATA	2873342000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	944235
+SHUFFLE	COMPRESS_BYTE_COUNT	944239
+SHUFFLE	COPY_MAP_DATA	16400000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	954837
+SHUFFLE	COMPRESS_BYTE_COUNT	954841
+SHUFFLE	COPY_MAP_DATA	37742000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	953420
+SHUFFLE	COMPRESS_BYTE_COUNT	953424
+SHUFFLE	COPY_MAP_DATA	394593000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1089025
+SHUFFLE	COMPRESS_BYTE_COUNT	1089029
+SHUFFLE	COPY_MAP_DATA	1006954000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	965184
+SHUFFLE	COMPRESS_BYTE_COUNT	965188
+SHUFFLE	COPY_MAP_DATA	374952000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	922745
+SHUFFLE	COMPRESS_BYTE_COUNT	922749
+SHUFFLE	COPY_MAP_DATA	51926000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	915047
+SHUFFLE	COMPRESS_BYTE_COUNT	915051
+SHUFFLE	COPY_MAP_DATA	60918000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	965779
+SHUFFLE	COMPRESS_BYTE_COUNT	965783
+SHUFFLE	COPY_MAP_DATA	23084000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	958207
+SHUFFLE	COMPRESS_BYTE_COUNT	958211
+SHUFFLE	COPY_MAP_DATA	1146372000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	910839
+SHUFFLE	COMPRESS_BYTE_COUNT	910843
+SHUFFLE	COPY_MAP_DATA	18907000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	923793
+SHUFFLE	COMPRESS_BYTE_COUNT	923797
+SHUFFLE	COPY_MAP_DATA	250373000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	927267
+SHUFFLE	COMPRESS_BYTE_COUNT	927271
+SHUFFLE	COPY_MAP_DATA	79045000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	933508
+SHUFFLE	COMPRESS_BYTE_COUNT	933512
+SHUFFLE	COPY_MAP_DATA	31819000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	959928
+SHUFFLE	COMPRESS_BYTE_COUNT	959932
+SHUFFLE	COPY_MAP_DATA	19058000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	954152
+SHUFFLE	COMPRESS_BYTE_COUNT	954156
+SHUFFLE	COPY_MAP_DATA	122505000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	973430
+SHUFFLE	COMPRESS_BYTE_COUNT	973434
+SHUFFLE	COPY_MAP_DATA	107119000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	954517
+SHUFFLE	COMPRESS_BYTE_COUNT	954521
+SHUFFLE	COPY_MAP_DATA	241015000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	967240
+SHUFFLE	COMPRESS_BYTE_COUNT	967244
+SHUFFLE	COPY_MAP_DATA	118605000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	979826
+SHUFFLE	COMPRESS_BYTE_COUNT	979830
+SHUFFLE	COPY_MAP_DATA	105023000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	928229
+SHUFFLE	COMPRESS_BYTE_COUNT	928233
+SHUFFLE	COPY_MAP_DATA	19741000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	909716
+SHUFFLE	COMPRESS_BYTE_COUNT	909720
+SHUFFLE	COPY_MAP_DATA	28924000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	932556
+SHUFFLE	COMPRESS_BYTE_COUNT	932560
+SHUFFLE	COPY_MAP_DATA	133278000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	946055
+SHUFFLE	COMPRESS_BYTE_COUNT	946059
+SHUFFLE	COPY_MAP_DATA	53362000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	949397
+SHUFFLE	COMPRESS_BYTE_COUNT	949401
+SHUFFLE	COPY_MAP_DATA	141606000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	871052
+SHUFFLE	COMPRESS_BYTE_COUNT	871056
+SHUFFLE	COPY_MAP_DATA	37845000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	890562
+SHUFFLE	COMPRESS_BYTE_COUNT	890566
+SHUFFLE	COPY_MAP_DATA	40849000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	909805
+SHUFFLE	COMPRESS_BYTE_COUNT	909809
+SHUFFLE	COPY_MAP_DATA	243691000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	938344
+SHUFFLE	COMPRESS_BYTE_COUNT	938348
+SHUFFLE	COPY_MAP_DATA	37805000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	885368
+SHUFFLE	COMPRESS_BYTE_COUNT	885372
+SHUFFLE	COPY_MAP_DATA	88795000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1031262
+SHUFFLE	COMPRESS_BYTE_COUNT	1031266
+SHUFFLE	COPY_MAP_DATA	41558000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	922407
+SHUFFLE	COMPRESS_BYTE_COUNT	922411
+SHUFFLE	COPY_MAP_DATA	1867642000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	932848
+SHUFFLE	COMPRESS_BYTE_COUNT	932852
+SHUFFLE	COPY_MAP_DATA	18933000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	899267
+SHUFFLE	COMPRESS_BYTE_COUNT	899271
+SHUFFLE	COPY_MAP_DATA	19162000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	932966
+SHUFFLE	COMPRESS_BYTE_COUNT	932970
+SHUFFLE	COPY_MAP_DATA	21398000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	947812
+SHUFFLE	COMPRESS_BYTE_COUNT	947816
+SHUFFLE	COPY_MAP_DATA	94348000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	928704
+SHUFFLE	COMPRESS_BYTE_COUNT	928708
+SHUFFLE	COPY_MAP_DATA	299613000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	862771
+SHUFFLE	COMPRESS_BYTE_COUNT	862775
+SHUFFLE	COPY_MAP_DATA	68914000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	864968
+SHUFFLE	COMPRESS_BYTE_COUNT	864972
+SHUFFLE	COPY_MAP_DATA	80776000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	926308
+SHUFFLE	COMPRESS_BYTE_COUNT	926312
+SHUFFLE	COPY_MAP_DATA	39172000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	939263
+SHUFFLE	COMPRESS_BYTE_COUNT	939267
+SHUFFLE	COPY_MAP_DATA	36370000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	877470
+SHUFFLE	COMPRESS_BYTE_COUNT	877474
+SHUFFLE	COPY_MAP_DATA	35558000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	866914
+SHUFFLE	COMPRESS_BYTE_COUNT	866918
+SHUFFLE	COPY_MAP_DATA	34660000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	950008
+SHUFFLE	COMPRESS_BYTE_COUNT	950012
+SHUFFLE	COPY_MAP_DATA	19560000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	849603
+SHUFFLE	COMPRESS_BYTE_COUNT	849607
+SHUFFLE	COPY_MAP_DATA	28055000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	924909
+SHUFFLE	COMPRESS_BYTE_COUNT	924913
+SHUFFLE	COPY_MAP_DATA	26825000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	868233
+SHUFFLE	COMPRESS_BYTE_COUNT	868237
+SHUFFLE	COPY_MAP_DATA	694369000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	864422
+SHUFFLE	COMPRESS_BYTE_COUNT	864426
+SHUFFLE	COPY_MAP_DATA	28197000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	867750
+SHUFFLE	COMPRESS_BYTE_COUNT	867754
+SHUFFLE	COPY_MAP_DATA	163360000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	957800
+SHUFFLE	COMPRESS_BYTE_COUNT	957804
+SHUFFLE	COPY_MAP_DATA	23261000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	861281
+SHUFFLE	COMPRESS_BYTE_COUNT	861285
+SHUFFLE	COPY_MAP_DATA	35113000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	931955
+SHUFFLE	COMPRESS_BYTE_COUNT	931959
+SHUFFLE	COPY_MAP_DATA	213118000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	881599
+SHUFFLE	COMPRESS_BYTE_COUNT	881603
+SHUFFLE	COPY_MAP_DATA	261878000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	885614
+SHUFFLE	COMPRESS_BYTE_COUNT	885618
+SHUFFLE	COPY_MAP_DATA	1729636887
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	875531
+SHUFFLE	COMPRESS_BYTE_COUNT	875535
+SHUFFLE	COPY_MAP_DATA	92108000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	879026
+SHUFFLE	COMPRESS_BYTE_COUNT	879030
+SHUFFLE	COPY_MAP_DATA	61092000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	874478
+SHUFFLE	COMPRESS_BYTE_COUNT	874482
+SHUFFLE	COPY_MAP_DATA	213197000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	859742
+SHUFFLE	COMPRESS_BYTE_COUNT	859746
+SHUFFLE	COPY_MAP_DATA	30601000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	894997
+SHUFFLE	COMPRESS_BYTE_COUNT	895001
+SHUFFLE	COPY_MAP_DATA	459652000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	843201
+SHUFFLE	COMPRESS_BYTE_COUNT	843205
+SHUFFLE	COPY_MAP_DATA	212464000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	878475
+SHUFFLE	COMPRESS_BYTE_COUNT	878479
+SHUFFLE	COPY_MAP_DATA	855698000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	876105
+SHUFFLE	COMPRESS_BYTE_COUNT	876109
+SHUFFLE	COPY_MAP_DATA	83585000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	842603
+SHUFFLE	COMPRESS_BYTE_COUNT	842607
+SHUFFLE	COPY_MAP_DATA	308003000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	841838
+SHUFFLE	COMPRESS_BYTE_COUNT	841842
+SHUFFLE	COPY_MAP_DATA	8925000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	781546
+SHUFFLE	COMPRESS_BYTE_COUNT	781550
+SHUFFLE	COPY_MAP_DATA	94015000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	821801
+SHUFFLE	COMPRESS_BYTE_COUNT	821805
+SHUFFLE	COPY_MAP_DATA	25676000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	820673
+SHUFFLE	COMPRESS_BYTE_COUNT	820677
+SHUFFLE	COPY_MAP_DATA	132940000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	893657
+SHUFFLE	COMPRESS_BYTE_COUNT	893661
+SHUFFLE	COPY_MAP_DATA	1268855000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	840198
+SHUFFLE	COMPRESS_BYTE_COUNT	840202
+SHUFFLE	COPY_MAP_DATA	53747000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	812238
+SHUFFLE	COMPRESS_BYTE_COUNT	812242
+SHUFFLE	COPY_MAP_DATA	34745000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	831928
+SHUFFLE	COMPRESS_BYTE_COUNT	831932
+SHUFFLE	COPY_MAP_DATA	11931000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	826576
+SHUFFLE	COMPRESS_BYTE_COUNT	826580
+SHUFFLE	COPY_MAP_DATA	28480000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	879041
+SHUFFLE	COMPRESS_BYTE_COUNT	879045
+SHUFFLE	COPY_MAP_DATA	1663551000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	854957
+SHUFFLE	COMPRESS_BYTE_COUNT	854961
+SHUFFLE	COPY_MAP_DATA	21797000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	830097
+SHUFFLE	COMPRESS_BYTE_COUNT	830101
+SHUFFLE	COPY_MAP_DATA	21190000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	935189
+SHUFFLE	COMPRESS_BYTE_COUNT	935193
+SHUFFLE	COPY_MAP_DATA	128626000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	797466
+SHUFFLE	COMPRESS_BYTE_COUNT	797470
+SHUFFLE	COPY_MAP_DATA	6990413000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	789477
+SHUFFLE	COMPRESS_BYTE_COUNT	789481
+SHUFFLE	COPY_MAP_DATA	183495000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	836792
+SHUFFLE	COMPRESS_BYTE_COUNT	836796
+SHUFFLE	COPY_MAP_DATA	123664000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	798931
+SHUFFLE	COMPRESS_BYTE_COUNT	798935
+SHUFFLE	COPY_MAP_DATA	87113000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	795358
+SHUFFLE	COMPRESS_BYTE_COUNT	795362
+SHUFFLE	COPY_MAP_DATA	68575000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	743204
+SHUFFLE	COMPRESS_BYTE_COUNT	743208
+SHUFFLE	COPY_MAP_DATA	44838000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	829274
+SHUFFLE	COMPRESS_BYTE_COUNT	829278
+SHUFFLE	COPY_MAP_DATA	14267000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	794868
+SHUFFLE	COMPRESS_BYTE_COUNT	794872
+SHUFFLE	COPY_MAP_DATA	15922000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	953474
+SHUFFLE	COMPRESS_BYTE_COUNT	953478
+SHUFFLE	COPY_MAP_DATA	318697000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	869643
+SHUFFLE	COMPRESS_BYTE_COUNT	869647
+SHUFFLE	COPY_MAP_DATA	2206095000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	849173
+SHUFFLE	COMPRESS_BYTE_COUNT	849177
+SHUFFLE	COPY_MAP_DATA	87136000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	864981
+SHUFFLE	COMPRESS_BYTE_COUNT	864985
+SHUFFLE	COPY_MAP_DATA	19774000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	848265
+SHUFFLE	COMPRESS_BYTE_COUNT	848269
+SHUFFLE	COPY_MAP_DATA	29787000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	829865
+SHUFFLE	COMPRESS_BYTE_COUNT	829869
+SHUFFLE	COPY_MAP_DATA	3591188116
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	804484
+SHUFFLE	COMPRESS_BYTE_COUNT	804488
+SHUFFLE	COPY_MAP_DATA	3470558000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	916984
+SHUFFLE	COMPRESS_BYTE_COUNT	916988
+SHUFFLE	COPY_MAP_DATA	598451000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	750483
+SHUFFLE	COMPRESS_BYTE_COUNT	750487
+SHUFFLE	COPY_MAP_DATA	757934000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	817941
+SHUFFLE	COMPRESS_BYTE_COUNT	817945
+SHUFFLE	COPY_MAP_DATA	174386000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	774448
+SHUFFLE	COMPRESS_BYTE_COUNT	774452
+SHUFFLE	COPY_MAP_DATA	6752000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	926918
+SHUFFLE	COMPRESS_BYTE_COUNT	926922
+SHUFFLE	COPY_MAP_DATA	53468000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	841175
+SHUFFLE	COMPRESS_BYTE_COUNT	841179
+SHUFFLE	COPY_MAP_DATA	16121000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	779368
+SHUFFLE	COMPRESS_BYTE_COUNT	779372
+SHUFFLE	COPY_MAP_DATA	8046000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	935540
+SHUFFLE	COMPRESS_BYTE_COUNT	935544
+SHUFFLE	COPY_MAP_DATA	16542000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	811752
+SHUFFLE	COMPRESS_BYTE_COUNT	811756
+SHUFFLE	COPY_MAP_DATA	232967000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	806439
+SHUFFLE	COMPRESS_BYTE_COUNT	806443
+SHUFFLE	COPY_MAP_DATA	20609000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	780565
+SHUFFLE	COMPRESS_BYTE_COUNT	780569
+SHUFFLE	COPY_MAP_DATA	154939000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	745413
+SHUFFLE	COMPRESS_BYTE_COUNT	745417
+SHUFFLE	COPY_MAP_DATA	1284673000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	890561
+SHUFFLE	COMPRESS_BYTE_COUNT	890565
+SHUFFLE	COPY_MAP_DATA	32845000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	797694
+SHUFFLE	COMPRESS_BYTE_COUNT	797698
+SHUFFLE	COPY_MAP_DATA	165342000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	821949
+SHUFFLE	COMPRESS_BYTE_COUNT	821953
+SHUFFLE	COPY_MAP_DATA	34007000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	806332
+SHUFFLE	COMPRESS_BYTE_COUNT	806336
+SHUFFLE	COPY_MAP_DATA	69479000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	801566
+SHUFFLE	COMPRESS_BYTE_COUNT	801570
+SHUFFLE	COPY_MAP_DATA	198600000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	740938
+SHUFFLE	COMPRESS_BYTE_COUNT	740942
+SHUFFLE	COPY_MAP_DATA	88272000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	759877
+SHUFFLE	COMPRESS_BYTE_COUNT	759881
+SHUFFLE	COPY_MAP_DATA	594516000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	805211
+SHUFFLE	COMPRESS_BYTE_COUNT	805215
+SHUFFLE	COPY_MAP_DATA	82386000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	849597
+SHUFFLE	COMPRESS_BYTE_COUNT	849601
+SHUFFLE	COPY_MAP_DATA	72389000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	800264
+SHUFFLE	COMPRESS_BYTE_COUNT	800268
+SHUFFLE	COPY_MAP_DATA	114182000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	773638
+SHUFFLE	COMPRESS_BYTE_COUNT	773642
+SHUFFLE	COPY_MAP_DATA	90596000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	775743
+SHUFFLE	COMPRESS_BYTE_COUNT	775747
+SHUFFLE	COPY_MAP_DATA	186827000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	796900
+SHUFFLE	COMPRESS_BYTE_COUNT	796904
+SHUFFLE	COPY_MAP_DATA	467854000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	769941
+SHUFFLE	COMPRESS_BYTE_COUNT	769945
+SHUFFLE	COPY_MAP_DATA	177638000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	947145
+SHUFFLE	COMPRESS_BYTE_COUNT	947149
+SHUFFLE	COPY_MAP_DATA	630048000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1120800
+SHUFFLE	COMPRESS_BYTE_COUNT	1120804
+SHUFFLE	COPY_MAP_DATA	25874000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	856699
+SHUFFLE	COMPRESS_BYTE_COUNT	856703
+SHUFFLE	COPY_MAP_DATA	20750000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	783184
+SHUFFLE	COMPRESS_BYTE_COUNT	783188
+SHUFFLE	COPY_MAP_DATA	216399000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1057107
+SHUFFLE	COMPRESS_BYTE_COUNT	1057111
+SHUFFLE	COPY_MAP_DATA	42122000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	732230
+SHUFFLE	COMPRESS_BYTE_COUNT	732234
+SHUFFLE	COPY_MAP_DATA	31138000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	746204
+SHUFFLE	COMPRESS_BYTE_COUNT	746208
+SHUFFLE	COPY_MAP_DATA	57307000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	760608
+SHUFFLE	COMPRESS_BYTE_COUNT	760612
+SHUFFLE	COPY_MAP_DATA	1704505000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	796217
+SHUFFLE	COMPRESS_BYTE_COUNT	796221
+SHUFFLE	COPY_MAP_DATA	14871000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	852024
+SHUFFLE	COMPRESS_BYTE_COUNT	852028
+SHUFFLE	COPY_MAP_DATA	3109970000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	780568
+SHUFFLE	COMPRESS_BYTE_COUNT	780572
+SHUFFLE	COPY_MAP_DATA	18244000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	821565
+SHUFFLE	COMPRESS_BYTE_COUNT	821569
+SHUFFLE	COPY_MAP_DATA	234279000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	769528
+SHUFFLE	COMPRESS_BYTE_COUNT	769532
+SHUFFLE	COPY_MAP_DATA	20229000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	845666
+SHUFFLE	COMPRESS_BYTE_COUNT	845670
+SHUFFLE	COPY_MAP_DATA	38132000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	786578
+SHUFFLE	COMPRESS_BYTE_COUNT	786582
+SHUFFLE	COPY_MAP_DATA	24488000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	758766
+SHUFFLE	COMPRESS_BYTE_COUNT	758770
+SHUFFLE	COPY_MAP_DATA	52379000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	950393
+SHUFFLE	COMPRESS_BYTE_COUNT	950397
+SHUFFLE	COPY_MAP_DATA	19733000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	778875
+SHUFFLE	COMPRESS_BYTE_COUNT	778879
+SHUFFLE	COPY_MAP_DATA	1819617000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	775666
+SHUFFLE	COMPRESS_BYTE_COUNT	775670
+SHUFFLE	COPY_MAP_DATA	35809000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	763913
+SHUFFLE	COMPRESS_BYTE_COUNT	763917
+SHUFFLE	COPY_MAP_DATA	1492222126
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	844912
+SHUFFLE	COMPRESS_BYTE_COUNT	844916
+SHUFFLE	COPY_MAP_DATA	44534000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	866399
+SHUFFLE	COMPRESS_BYTE_COUNT	866403
+SHUFFLE	COPY_MAP_DATA	35697000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	985009
+SHUFFLE	COMPRESS_BYTE_COUNT	985013
+SHUFFLE	COPY_MAP_DATA	76617000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	844532
+SHUFFLE	COMPRESS_BYTE_COUNT	844536
+SHUFFLE	COPY_MAP_DATA	21556000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	763722
+SHUFFLE	COMPRESS_BYTE_COUNT	763726
+SHUFFLE	COPY_MAP_DATA	55870000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	715248
+SHUFFLE	COMPRESS_BYTE_COUNT	715252
+SHUFFLE	COPY_MAP_DATA	48073000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	710706
+SHUFFLE	COMPRESS_BYTE_COUNT	710710
+SHUFFLE	COPY_MAP_DATA	36413000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	932071
+SHUFFLE	COMPRESS_BYTE_COUNT	932075
+SHUFFLE	COPY_MAP_DATA	5082554000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	902757
+SHUFFLE	COMPRESS_BYTE_COUNT	902761
+SHUFFLE	COPY_MAP_DATA	21173000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	811038
+SHUFFLE	COMPRESS_BYTE_COUNT	811042
+SHUFFLE	COPY_MAP_DATA	99451000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	844356
+SHUFFLE	COMPRESS_BYTE_COUNT	844360
+SHUFFLE	COPY_MAP_DATA	6261911000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	988226
+SHUFFLE	COMPRESS_BYTE_COUNT	988230
+SHUFFLE	COPY_MAP_DATA	24876000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1342301
+SHUFFLE	COMPRESS_BYTE_COUNT	1342305
+SHUFFLE	COPY_MAP_DATA	143556000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	717983
+SHUFFLE	COMPRESS_BYTE_COUNT	717987
+SHUFFLE	COPY_MAP_DATA	129197000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	779191
+SHUFFLE	COMPRESS_BYTE_COUNT	779195
+SHUFFLE	COPY_MAP_DATA	12240000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	715248
+SHUFFLE	COMPRESS_BYTE_COUNT	715252
+SHUFFLE	COPY_MAP_DATA	15507000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	822567
+SHUFFLE	COMPRESS_BYTE_COUNT	822571
+SHUFFLE	COPY_MAP_DATA	8525000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	847872
+SHUFFLE	COMPRESS_BYTE_COUNT	847876
+SHUFFLE	COPY_MAP_DATA	20464000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	788151
+SHUFFLE	COMPRESS_BYTE_COUNT	788155
+SHUFFLE	COPY_MAP_DATA	53441000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	745768
+SHUFFLE	COMPRESS_BYTE_COUNT	745772
+SHUFFLE	COPY_MAP_DATA	51430000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	867196
+SHUFFLE	COMPRESS_BYTE_COUNT	867200
+SHUFFLE	COPY_MAP_DATA	14727000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	871690
+SHUFFLE	COMPRESS_BYTE_COUNT	871694
+SHUFFLE	COPY_MAP_DATA	16831000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	745250
+SHUFFLE	COMPRESS_BYTE_COUNT	745254
+SHUFFLE	COPY_MAP_DATA	137509000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	868678
+SHUFFLE	COMPRESS_BYTE_COUNT	868682
+SHUFFLE	COPY_MAP_DATA	21127000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	737797
+SHUFFLE	COMPRESS_BYTE_COUNT	737801
+SHUFFLE	COPY_MAP_DATA	8642000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	760030
+SHUFFLE	COMPRESS_BYTE_COUNT	760034
+SHUFFLE	COPY_MAP_DATA	34771000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	862614
+SHUFFLE	COMPRESS_BYTE_COUNT	862618
+SHUFFLE	COPY_MAP_DATA	10609000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	949733
+SHUFFLE	COMPRESS_BYTE_COUNT	949737
+SHUFFLE	COPY_MAP_DATA	17212000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	862225
+SHUFFLE	COMPRESS_BYTE_COUNT	862229
+SHUFFLE	COPY_MAP_DATA	13329000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	700193
+SHUFFLE	COMPRESS_BYTE_COUNT	700197
+SHUFFLE	COPY_MAP_DATA	17130000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	780795
+SHUFFLE	COMPRESS_BYTE_COUNT	780799
+SHUFFLE	COPY_MAP_DATA	26702000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	750706
+SHUFFLE	COMPRESS_BYTE_COUNT	750710
+SHUFFLE	COPY_MAP_DATA	24425000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	747788
+SHUFFLE	COMPRESS_BYTE_COUNT	747792
+SHUFFLE	COPY_MAP_DATA	15931000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1012820
+SHUFFLE	COMPRESS_BYTE_COUNT	1012824
+SHUFFLE	COPY_MAP_DATA	24229000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	620260
+SHUFFLE	COMPRESS_BYTE_COUNT	620264
+SHUFFLE	COPY_MAP_DATA	2077526000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	811682
+SHUFFLE	COMPRESS_BYTE_COUNT	811686
+SHUFFLE	COPY_MAP_DATA	18253000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	767679
+SHUFFLE	COMPRESS_BYTE_COUNT	767683
+SHUFFLE	COPY_MAP_DATA	16930000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	939455
+SHUFFLE	COMPRESS_BYTE_COUNT	939459
+SHUFFLE	COPY_MAP_DATA	21750000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	773920
+SHUFFLE	COMPRESS_BYTE_COUNT	773924
+SHUFFLE	COPY_MAP_DATA	9060000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	954730
+SHUFFLE	COMPRESS_BYTE_COUNT	954734
+SHUFFLE	COPY_MAP_DATA	19571000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	623001
+SHUFFLE	COMPRESS_BYTE_COUNT	623005
+SHUFFLE	COPY_MAP_DATA	13859000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	908373
+SHUFFLE	COMPRESS_BYTE_COUNT	908377
+SHUFFLE	COPY_MAP_DATA	20810000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	809342
+SHUFFLE	COMPRESS_BYTE_COUNT	809346
+SHUFFLE	COPY_MAP_DATA	16646000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	96355127156
+MERGE	READ_WRITE	95155173156
+MERGE	READ_WRITE_COUNT	2
+MERGE	COMBINE	0
+MERGE	WRITE	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	15708575000
+SORT	READ_WRITE	15537684000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	124178496
+REDUCE	SETUP	387000
+REDUCE	SETUP_MEM	124178496
+REDUCE	CLEANUP	47000
+REDUCE	CLEANUP_MEM	133337648
+REDUCE	TOTAL_RUN	119394411211
+REDUCE	READ	10019382000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	100147398211
+REDUCE	WRITE	33631599000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	70328752
+REDUCE	VALUE_BYTE_COUNT	63640284
+REDUCE	REDUCE_MEM	133337648
+REDUCE	WRITE	9383000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	672251669851
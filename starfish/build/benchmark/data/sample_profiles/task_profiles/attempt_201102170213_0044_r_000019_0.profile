@@ -0,0 +1,1333 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1804633
+SHUFFLE	COMPRESS_BYTE_COUNT	1804637
+SHUFFLE	COPY_MAP_DATA	69914000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1935388
+SHUFFLE	COMPRESS_BYTE_COUNT	1935392
+SHUFFLE	COPY_MAP_DATA	65630000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1829675
+SHUFFLE	COMPRESS_BYTE_COUNT	1829679
+SHUFFLE	COPY_MAP_DATA	44499000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2019336
+SHUFFLE	COMPRESS_BYTE_COUNT	2019340
+SHUFFLE	COPY_MAP_DATA	583722000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1927527
+SHUFFLE	COMPRESS_BYTE_COUNT	1927531
+SHUFFLE	COPY_MAP_DATA	40403000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1981191
+SHUFFLE	COMPRESS_BYTE_COUNT	1981195
+SHUFFLE	COPY_MAP_DATA	26532000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1724503
+SHUFFLE	COMPRESS_BYTE_COUNT	1724507
+SHUFFLE	COPY_MAP_DATA	65427000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2017414
+SHUFFLE	COMPRESS_BYTE_COUNT	2017418
+SHUFFLE	COPY_MAP_DATA	28516000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2055942
+SHUFFLE	COMPRESS_BYTE_COUNT	2055946
+SHUFFLE	COPY_MAP_DATA	399237000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1843426
+SHUFFLE	COMPRESS_BYTE_COUNT	1843430
+SHUFFLE	COPY_MAP_DATA	18473000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2015814
+SHUFFLE	COMPRESS_BYTE_COUNT	2015818
+SHUFFLE	COPY_MAP_DATA	100807000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1961293
+SHUFFLE	COMPRESS_BYTE_COUNT	1961297
+SHUFFLE	COPY_MAP_DATA	30010000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1918664
+SHUFFLE	COMPRESS_BYTE_COUNT	1918668
+SHUFFLE	COPY_MAP_DATA	24535000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2075035
+SHUFFLE	COMPRESS_BYTE_COUNT	2075039
+SHUFFLE	COPY_MAP_DATA	30412000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2007847
+SHUFFLE	COMPRESS_BYTE_COUNT	2007851
+SHUFFLE	COPY_MAP_DATA	68994000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1953964
+SHUFFLE	COMPRESS_BYTE_COUNT	1953968
+SHUFFLE	COPY_MAP_DATA	16360000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2077707
+SHUFFLE	COMPRESS_BYTE_COUNT	2077711
+SHUFFLE	COPY_MAP_DATA	23412000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1887370
+SHUFFLE	COMPRESS_BYTE_COUNT	1887374
+SHUFFLE	COPY_MAP_DATA	38573000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1958891
+SHUFFLE	COMPRESS_BYTE_COUNT	1958895
+SHUFFLE	COPY_MAP_DATA	80495000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1919773
+SHUFFLE	COMPRESS_BYTE_COUNT	1919777
+SHUFFLE	COPY_MAP_DATA	25670000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1920601
+SHUFFLE	COMPRESS_BYTE_COUNT	1920605
+SHUFFLE	COPY_MAP_DATA	420179000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1983044
+SHUFFLE	COMPRESS_BYTE_COUNT	1983048
+SHUFFLE	COPY_MAP_DATA	135601000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2094514
+SHUFFLE	COMPRESS_BYTE_COUNT	2094518
+SHUFFLE	COPY_MAP_DATA	27954000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1883609
+SHUFFLE	COMPRESS_BYTE_COUNT	1883613
+SHUFFLE	COPY_MAP_DATA	82308000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2197873
+SHUFFLE	COMPRESS_BYTE_COUNT	2197877
+SHUFFLE	COPY_MAP_DATA	112400000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2004347
+SHUFFLE	COMPRESS_BYTE_COUNT	2004351
+SHUFFLE	COPY_MAP_DATA	54429000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1975262
+SHUFFLE	COMPRESS_BYTE_COUNT	1975266
+SHUFFLE	COPY_MAP_DATA	250898000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2064096
+SHUFFLE	COMPRESS_BYTE_COUNT	2064100
+SHUFFLE	COPY_MAP_DATA	25384000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1946014
+SHUFFLE	COMPRESS_BYTE_COUNT	1946018
+SHUFFLE	COPY_MAP_DATA	2538077964
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2073962
+SHUFFLE	COMPRESS_BYTE_COUNT	2073966
+SHUFFLE	COPY_MAP_DATA	33806000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2007928
+SHUFFLE	COMPRESS_BYTE_COUNT	2007932
+SHUFFLE	COPY_MAP_DATA	7500367000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1885687
+SHUFFLE	COMPRESS_BYTE_COUNT	1885691
+SHUFFLE	COPY_MAP_DATA	496376000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1955676
+SHUFFLE	COMPRESS_BYTE_COUNT	1955680
+SHUFFLE	COPY_MAP_DATA	3344822000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1845915
+SHUFFLE	COMPRESS_BYTE_COUNT	1845919
+SHUFFLE	COPY_MAP_DATA	75080000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1785199
+SHUFFLE	COMPRESS_BYTE_COUNT	1785203
+SHUFFLE	COPY_MAP_DATA	326759000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2052559
+SHUFFLE	COMPRESS_BYTE_COUNT	2052563
+SHUFFLE	COPY_MAP_DATA	186327000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1842019
+SHUFFLE	COMPRESS_BYTE_COUNT	1842023
+SHUFFLE	COPY_MAP_DATA	132372000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1862861
+SHUFFLE	COMPRESS_BYTE_COUNT	1862865
+SHUFFLE	COPY_MAP_DATA	33236000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1985387
+SHUFFLE	COMPRESS_BYTE_COUNT	1985391
+SHUFFLE	COPY_MAP_DATA	227733000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1855048
+SHUFFLE	COMPRESS_BYTE_COUNT	1855052
+SHUFFLE	COPY_MAP_DATA	69394000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1918064
+SHUFFLE	COMPRESS_BYTE_COUNT	1918068
+SHUFFLE	COPY_MAP_DATA	81816000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1904482
+SHUFFLE	COMPRESS_BYTE_COUNT	1904486
+SHUFFLE	COPY_MAP_DATA	30152000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1672076
+SHUFFLE	COMPRESS_BYTE_COUNT	1672080
+SHUFFLE	COPY_MAP_DATA	35106000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1660020
+SHUFFLE	COMPRESS_BYTE_COUNT	1660024
+SHUFFLE	COPY_MAP_DATA	28363000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1850116
+SHUFFLE	COMPRESS_BYTE_COUNT	1850120
+SHUFFLE	COPY_MAP_DATA	16940000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1763625
+SHUFFLE	COMPRESS_BYTE_COUNT	1763629
+SHUFFLE	COPY_MAP_DATA	284293000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1985219
+SHUFFLE	COMPRESS_BYTE_COUNT	1985223
+SHUFFLE	COPY_MAP_DATA	250284000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1584037
+SHUFFLE	COMPRESS_BYTE_COUNT	1584041
+SHUFFLE	COPY_MAP_DATA	22346000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1867563
+SHUFFLE	COMPRESS_BYTE_COUNT	1867567
+SHUFFLE	COPY_MAP_DATA	39121000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1822310
+SHUFFLE	COMPRESS_BYTE_COUNT	1822314
+SHUFFLE	COPY_MAP_DATA	35294000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1774686
+SHUFFLE	COMPRESS_BYTE_COUNT	1774690
+SHUFFLE	COPY_MAP_DATA	16497000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1935082
+SHUFFLE	COMPRESS_BYTE_COUNT	1935086
+SHUFFLE	COPY_MAP_DATA	28137000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1736859
+SHUFFLE	COMPRESS_BYTE_COUNT	1736863
+SHUFFLE	COPY_MAP_DATA	25959000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1667565
+SHUFFLE	COMPRESS_BYTE_COUNT	1667569
+SHUFFLE	COPY_MAP_DATA	24892000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1783204
+SHUFFLE	COMPRESS_BYTE_COUNT	1783208
+SHUFFLE	COPY_MAP_DATA	131297000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1890756
+SHUFFLE	COMPRESS_BYTE_COUNT	1890760
+SHUFFLE	COPY_MAP_DATA	199014000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1885644
+SHUFFLE	COMPRESS_BYTE_COUNT	1885648
+SHUFFLE	COPY_MAP_DATA	44814000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1796214
+SHUFFLE	COMPRESS_BYTE_COUNT	1796218
+SHUFFLE	COPY_MAP_DATA	25654000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1932122
+SHUFFLE	COMPRESS_BYTE_COUNT	1932126
+SHUFFLE	COPY_MAP_DATA	27300000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1715850
+SHUFFLE	COMPRESS_BYTE_COUNT	1715854
+SHUFFLE	COPY_MAP_DATA	558015000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1643753
+SHUFFLE	COMPRESS_BYTE_COUNT	1643757
+SHUFFLE	COPY_MAP_DATA	180547000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1613408
+SHUFFLE	COMPRESS_BYTE_COUNT	1613412
+SHUFFLE	COPY_MAP_DATA	46921000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1583282
+SHUFFLE	COMPRESS_BYTE_COUNT	1583286
+SHUFFLE	COPY_MAP_DATA	24140000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1970520
+SHUFFLE	COMPRESS_BYTE_COUNT	1970524
+SHUFFLE	COPY_MAP_DATA	36134000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1606353
+SHUFFLE	COMPRESS_BYTE_COUNT	1606357
+SHUFFLE	COPY_MAP_DATA	798062000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1693787
+SHUFFLE	COMPRESS_BYTE_COUNT	1693791
+SHUFFLE	COPY_MAP_DATA	75018000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1617619
+SHUFFLE	COMPRESS_BYTE_COUNT	1617623
+SHUFFLE	COPY_MAP_DATA	788307000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1691823
+SHUFFLE	COMPRESS_BYTE_COUNT	1691827
+SHUFFLE	COPY_MAP_DATA	63082000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1842917
+SHUFFLE	COMPRESS_BYTE_COUNT	1842921
+SHUFFLE	COPY_MAP_DATA	796274000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1673068
+SHUFFLE	COMPRESS_BYTE_COUNT	1673072
+SHUFFLE	COPY_MAP_DATA	35934000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1679737
+SHUFFLE	COMPRESS_BYTE_COUNT	1679741
+SHUFFLE	COPY_MAP_DATA	10987897648
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1664643
+SHUFFLE	COMPRESS_BYTE_COUNT	1664647
+SHUFFLE	COPY_MAP_DATA	33537000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1628593
+SHUFFLE	COMPRESS_BYTE_COUNT	1628597
+SHUFFLE	COPY_MAP_DATA	187055000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1632860
+SHUFFLE	COMPRESS_BYTE_COUNT	1632864
+SHUFFLE	COPY_MAP_DATA	29572000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1842953
+SHUFFLE	COMPRESS_BYTE_COUNT	1842957
+SHUFFLE	COPY_MAP_DATA	410715000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1628722
+SHUFFLE	COMPRESS_BYTE_COUNT	1628726
+SHUFFLE	COPY_MAP_DATA	87446000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1823867
+SHUFFLE	COMPRESS_BYTE_COUNT	1823871
+SHUFFLE	COPY_MAP_DATA	83698000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1664800
+SHUFFLE	COMPRESS_BYTE_COUNT	1664804
+SHUFFLE	COPY_MAP_DATA	306061000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1738983
+SHUFFLE	COMPRESS_BYTE_COUNT	1738987
+SHUFFLE	COPY_MAP_DATA	41110000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1765440
+SHUFFLE	COMPRESS_BYTE_COUNT	1765444
+SHUFFLE	COPY_MAP_DATA	639402000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1561228
+SHUFFLE	COMPRESS_BYTE_COUNT	1561232
+SHUFFLE	COPY_MAP_DATA	198720000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1659444
+SHUFFLE	COMPRESS_BYTE_COUNT	1659448
+SHUFFLE	COPY_MAP_DATA	432047000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1484752
+SHUFFLE	COMPRESS_BYTE_COUNT	1484756
+SHUFFLE	COPY_MAP_DATA	40734000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1692267
+SHUFFLE	COMPRESS_BYTE_COUNT	1692271
+SHUFFLE	COPY_MAP_DATA	707388000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1554037
+SHUFFLE	COMPRESS_BYTE_COUNT	1554041
+SHUFFLE	COPY_MAP_DATA	35857000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1773631
+SHUFFLE	COMPRESS_BYTE_COUNT	1773635
+SHUFFLE	COPY_MAP_DATA	919174000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1504789
+SHUFFLE	COMPRESS_BYTE_COUNT	1504793
+SHUFFLE	COPY_MAP_DATA	28756000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1708123
+SHUFFLE	COMPRESS_BYTE_COUNT	1708127
+SHUFFLE	COPY_MAP_DATA	410747000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1762744
+SHUFFLE	COMPRESS_BYTE_COUNT	1762748
+SHUFFLE	COPY_MAP_DATA	411556000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	823937
+SHUFFLE	COMPRESS_BYTE_COUNT	823941
+SHUFFLE	COPY_MAP_DATA	1947507000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1674179
+SHUFFLE	COMPRESS_BYTE_COUNT	1674183
+SHUFFLE	COPY_MAP_DATA	84000000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	942830
+SHUFFLE	COMPRESS_BYTE_COUNT	942834
+SHUFFLE	COPY_MAP_DATA	17489000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1579590
+SHUFFLE	COMPRESS_BYTE_COUNT	1579594
+SHUFFLE	COPY_MAP_DATA	28876000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1462906
+SHUFFLE	COMPRESS_BYTE_COUNT	1462910
+SHUFFLE	COPY_MAP_DATA	16042000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1019756
+SHUFFLE	COMPRESS_BYTE_COUNT	1019760
+SHUFFLE	COPY_MAP_DATA	75792000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	900568
+SHUFFLE	COMPRESS_BYTE_COUNT	900572
+SHUFFLE	COPY_MAP_DATA	11893000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1779554
+SHUFFLE	COMPRESS_BYTE_COUNT	1779558
+SHUFFLE	COPY_MAP_DATA	26295000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	861805
+SHUFFLE	COMPRESS_BYTE_COUNT	861809
+SHUFFLE	COPY_MAP_DATA	16701000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1003574
+SHUFFLE	COMPRESS_BYTE_COUNT	1003578
+SHUFFLE	COPY_MAP_DATA	12331000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1519465
+SHUFFLE	COMPRESS_BYTE_COUNT	1519469
+SHUFFLE	COPY_MAP_DATA	34918000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1052041
+SHUFFLE	COMPRESS_BYTE_COUNT	1052045
+SHUFFLE	COPY_MAP_DATA	22528000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1409754
+SHUFFLE	COMPRESS_BYTE_COUNT	1409758
+SHUFFLE	COPY_MAP_DATA	62231000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1735465
+SHUFFLE	COMPRESS_BYTE_COUNT	1735469
+SHUFFLE	COPY_MAP_DATA	38464000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1840685
+SHUFFLE	COMPRESS_BYTE_COUNT	1840689
+SHUFFLE	COPY_MAP_DATA	247413000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1087400
+SHUFFLE	COMPRESS_BYTE_COUNT	1087404
+SHUFFLE	COPY_MAP_DATA	19480000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1754366
+SHUFFLE	COMPRESS_BYTE_COUNT	1754370
+SHUFFLE	COPY_MAP_DATA	68949000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	980762
+SHUFFLE	COMPRESS_BYTE_COUNT	980766
+SHUFFLE	COPY_MAP_DATA	71737000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1659557
+SHUFFLE	COMPRESS_BYTE_COUNT	1659561
+SHUFFLE	COPY_MAP_DATA	1443036000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1651344
+SHUFFLE	COMPRESS_BYTE_COUNT	1651348
+SHUFFLE	COPY_MAP_DATA	33024000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1582744
+SHUFFLE	COMPRESS_BYTE_COUNT	1582748
+SHUFFLE	COPY_MAP_DATA	15380000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	987637
+SHUFFLE	COMPRESS_BYTE_COUNT	987641
+SHUFFLE	COPY_MAP_DATA	1102131000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1525712
+SHUFFLE	COMPRESS_BYTE_COUNT	1525716
+SHUFFLE	COPY_MAP_DATA	103216000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1629868
+SHUFFLE	COMPRESS_BYTE_COUNT	1629872
+SHUFFLE	COPY_MAP_DATA	220602000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1023587
+SHUFFLE	COMPRESS_BYTE_COUNT	1023591
+SHUFFLE	COPY_MAP_DATA	92429000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1609551
+SHUFFLE	COMPRESS_BYTE_COUNT	1609555
+SHUFFLE	COPY_MAP_DATA	35550000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1009281
+SHUFFLE	COMPRESS_BYTE_COUNT	1009285
+SHUFFLE	COPY_MAP_DATA	89094000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1060524
+SHUFFLE	COMPRESS_BYTE_COUNT	1060528
+SHUFFLE	COPY_MAP_DATA	164153000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1723908
+SHUFFLE	COMPRESS_BYTE_COUNT	1723912
+SHUFFLE	COPY_MAP_DATA	94736000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1717203
+SHUFFLE	COMPRESS_BYTE_COUNT	1717207
+SHUFFLE	COPY_MAP_DATA	338746000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1750224
+SHUFFLE	COMPRESS_BYTE_COUNT	1750228
+SHUFFLE	COPY_MAP_DATA	111983000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1017402
+SHUFFLE	COMPRESS_BYTE_COUNT	1017406
+SHUFFLE	COPY_MAP_DATA	1504815000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1000835
+SHUFFLE	COMPRESS_BYTE_COUNT	1000839
+SHUFFLE	COPY_MAP_DATA	43929000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1021075
+SHUFFLE	COMPRESS_BYTE_COUNT	1021079
+SHUFFLE	COPY_MAP_DATA	45258000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	863855
+SHUFFLE	COMPRESS_BYTE_COUNT	863859
+SHUFFLE	COPY_MAP_DATA	127551000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1077114
+SHUFFLE	COMPRESS_BYTE_COUNT	1077118
+SHUFFLE	COPY_MAP_DATA	136478000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1045658
+SHUFFLE	COMPRESS_BYTE_COUNT	1045662
+SHUFFLE	COPY_MAP_DATA	172379000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	998140
+SHUFFLE	COMPRESS_BYTE_COUNT	998144
+SHUFFLE	COPY_MAP_DATA	125706000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	953366
+SHUFFLE	COMPRESS_BYTE_COUNT	953370
+SHUFFLE	COPY_MAP_DATA	70868000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	992650
+SHUFFLE	COMPRESS_BYTE_COUNT	992654
+SHUFFLE	COPY_MAP_DATA	160732000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	996825
+SHUFFLE	COMPRESS_BYTE_COUNT	996829
+SHUFFLE	COPY_MAP_DATA	46686000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1021923
+SHUFFLE	COMPRESS_BYTE_COUNT	1021927
+SHUFFLE	COPY_MAP_DATA	46456000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1019363
+SHUFFLE	COMPRESS_BYTE_COUNT	1019367
+SHUFFLE	COPY_MAP_DATA	47550000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1019276
+SHUFFLE	COMPRESS_BYTE_COUNT	1019280
+SHUFFLE	COPY_MAP_DATA	126814000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	996838
+SHUFFLE	COMPRESS_BYTE_COUNT	996842
+SHUFFLE	COPY_MAP_DATA	69473913
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	952014
+SHUFFLE	COMPRESS_BYTE_COUNT	952018
+SHUFFLE	COPY_MAP_DATA	162970000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	940109
+SHUFFLE	COMPRESS_BYTE_COUNT	940113
+SHUFFLE	COPY_MAP_DATA	18893000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1034869
+SHUFFLE	COMPRESS_BYTE_COUNT	1034873
+SHUFFLE	COPY_MAP_DATA	9673000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1567412
+SHUFFLE	COMPRESS_BYTE_COUNT	1567416
+SHUFFLE	COPY_MAP_DATA	11697121000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1005358
+SHUFFLE	COMPRESS_BYTE_COUNT	1005362
+SHUFFLE	COPY_MAP_DATA	57512000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1007487
+SHUFFLE	COMPRESS_BYTE_COUNT	1007491
+SHUFFLE	COPY_MAP_DATA	37769000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1018978
+SHUFFLE	COMPRESS_BYTE_COUNT	1018982
+SHUFFLE	COPY_MAP_DATA	1054772000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	988567
+SHUFFLE	COMPRESS_BYTE_COUNT	988571
+SHUFFLE	COPY_MAP_DATA	126958000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1152217
+SHUFFLE	COMPRESS_BYTE_COUNT	1152221
+SHUFFLE	COPY_MAP_DATA	95839000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	981668
+SHUFFLE	COMPRESS_BYTE_COUNT	981672
+SHUFFLE	COPY_MAP_DATA	112352000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	997513
+SHUFFLE	COMPRESS_BYTE_COUNT	997517
+SHUFFLE	COPY_MAP_DATA	80766000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1002491
+SHUFFLE	COMPRESS_BYTE_COUNT	1002495
+SHUFFLE	COPY_MAP_DATA	88757000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	968059
+SHUFFLE	COMPRESS_BYTE_COUNT	968063
+SHUFFLE	COPY_MAP_DATA	763970000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	973212
+SHUFFLE	COMPRESS_BYTE_COUNT	973216
+SHUFFLE	COPY_MAP_DATA	19271000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	990810
+SHUFFLE	COMPRESS_BYTE_COUNT	990814
+SHUFFLE	COPY_MAP_DATA	108108000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	957854
+SHUFFLE	COMPRESS_BYTE_COUNT	957858
+SHUFFLE	COPY_MAP_DATA	507929000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1080884
+SHUFFLE	COMPRESS_BYTE_COUNT	1080888
+SHUFFLE	COPY_MAP_DATA	20697000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1011851
+SHUFFLE	COMPRESS_BYTE_COUNT	1011855
+SHUFFLE	COPY_MAP_DATA	18300000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1009834
+SHUFFLE	COMPRESS_BYTE_COUNT	1009838
+SHUFFLE	COPY_MAP_DATA	63574000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	947854
+SHUFFLE	COMPRESS_BYTE_COUNT	947858
+SHUFFLE	COPY_MAP_DATA	82797000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	932968
+SHUFFLE	COMPRESS_BYTE_COUNT	932972
+SHUFFLE	COPY_MAP_DATA	59378000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1038998
+SHUFFLE	COMPRESS_BYTE_COUNT	1039002
+SHUFFLE	COPY_MAP_DATA	191662000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	980358
+SHUFFLE	COMPRESS_BYTE_COUNT	980362
+SHUFFLE	COPY_MAP_DATA	45716000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	972377
+SHUFFLE	COMPRESS_BYTE_COUNT	972381
+SHUFFLE	COPY_MAP_DATA	146447000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	961921
+SHUFFLE	COMPRESS_BYTE_COUNT	961925
+SHUFFLE	COPY_MAP_DATA	78455000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	983069
+SHUFFLE	COMPRESS_BYTE_COUNT	983073
+SHUFFLE	COPY_MAP_DATA	409309000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	944580
+SHUFFLE	COMPRESS_BYTE_COUNT	944584
+SHUFFLE	COPY_MAP_DATA	74243000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	968554
+SHUFFLE	COMPRESS_BYTE_COUNT	968558
+SHUFFLE	COPY_MAP_DATA	19166000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1013563
+SHUFFLE	COMPRESS_BYTE_COUNT	1013567
+SHUFFLE	COPY_MAP_DATA	250073000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1001409
+SHUFFLE	COMPRESS_BYTE_COUNT	1001413
+SHUFFLE	COPY_MAP_DATA	18517000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	983812
+SHUFFLE	COMPRESS_BYTE_COUNT	983816
+SHUFFLE	COPY_MAP_DATA	16773000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	973579
+SHUFFLE	COMPRESS_BYTE_COUNT	973583
+SHUFFLE	COPY_MAP_DATA	119526000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1002320
+SHUFFLE	COMPRESS_BYTE_COUNT	1002324
+SHUFFLE	COPY_MAP_DATA	19392000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	948429
+SHUFFLE	COMPRESS_BYTE_COUNT	948433
+SHUFFLE	COPY_MAP_DATA	140139000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	980494
+SHUFFLE	COMPRESS_BYTE_COUNT	980498
+SHUFFLE	COPY_MAP_DATA	72938000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	896709
+SHUFFLE	COMPRESS_BYTE_COUNT	896713
+SHUFFLE	COPY_MAP_DATA	153573000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	975032
+SHUFFLE	COMPRESS_BYTE_COUNT	975036
+SHUFFLE	COPY_MAP_DATA	118814000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	932083
+SHUFFLE	COMPRESS_BYTE_COUNT	932087
+SHUFFLE	COPY_MAP_DATA	19491000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	961380
+SHUFFLE	COMPRESS_BYTE_COUNT	961384
+SHUFFLE	COPY_MAP_DATA	10255000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	950112
+SHUFFLE	COMPRESS_BYTE_COUNT	950116
+SHUFFLE	COPY_MAP_DATA	2852214000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1007824
+SHUFFLE	COMPRESS_BYTE_COUNT	1007828
+SHUFFLE	COPY_MAP_DATA	29782000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	959470
+SHUFFLE	COMPRESS_BYTE_COUNT	959474
+SHUFFLE	COPY_MAP_DATA	76328000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	953606
+SHUFFLE	COMPRESS_BYTE_COUNT	953610
+SHUFFLE	COPY_MAP_DATA	371709000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	973393
+SHUFFLE	COMPRESS_BYTE_COUNT	973397
+SHUFFLE	COPY_MAP_DATA	45068000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	943034
+SHUFFLE	COMPRESS_BYTE_COUNT	943038
+SHUFFLE	COPY_MAP_DATA	62037000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	980573
+SHUFFLE	COMPRESS_BYTE_COUNT	980577
+SHUFFLE	COPY_MAP_DATA	221808000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	962707
+SHUFFLE	COMPRESS_BYTE_COUNT	962711
+SHUFFLE	COPY_MAP_DATA	100984000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	931582
+SHUFFLE	COMPRESS_BYTE_COUNT	931586
+SHUFFLE	COPY_MAP_DATA	14268000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	955790
+SHUFFLE	COMPRESS_BYTE_COUNT	955794
+SHUFFLE	COPY_MAP_DATA	98971000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	993596
+SHUFFLE	COMPRESS_BYTE_COUNT	993600
+SHUFFLE	COPY_MAP_DATA	98284000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	976882
+SHUFFLE	COMPRESS_BYTE_COUNT	976886
+SHUFFLE	COPY_MAP_DATA	190788000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	929911
+SHUFFLE	COMPRESS_BYTE_COUNT	929915
+SHUFFLE	COPY_MAP_DATA	52902000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	937580
+SHUFFLE	COMPRESS_BYTE_COUNT	937584
+SHUFFLE	COPY_MAP_DATA	334926000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	952276
+SHUFFLE	COMPRESS_BYTE_COUNT	952280
+SHUFFLE	COPY_MAP_DATA	19773000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	908764
+SHUFFLE	COMPRESS_BYTE_COUNT	908768
+SHUFFLE	COPY_MAP_DATA	18120000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	950112
+SHUFFLE	COMPRESS_BYTE_COUNT	950116
+SHUFFLE	COPY_MAP_DATA	19033000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	880736
+SHUFFLE	COMPRESS_BYTE_COUNT	880740
+SHUFFLE	COPY_MAP_DATA	11241000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	965395
+SHUFFLE	COMPRESS_BYTE_COUNT	965399
+SHUFFLE	COPY_MAP_DATA	118365000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	917453
+SHUFFLE	COMPRESS_BYTE_COUNT	917457
+SHUFFLE	COPY_MAP_DATA	17893000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	932952
+SHUFFLE	COMPRESS_BYTE_COUNT	932956
+SHUFFLE	COPY_MAP_DATA	166795000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	893592
+SHUFFLE	COMPRESS_BYTE_COUNT	893596
+SHUFFLE	COPY_MAP_DATA	36601000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	912884
+SHUFFLE	COMPRESS_BYTE_COUNT	912888
+SHUFFLE	COPY_MAP_DATA	598221000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	922270
+SHUFFLE	COMPRESS_BYTE_COUNT	922274
+SHUFFLE	COPY_MAP_DATA	17823000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	925542
+SHUFFLE	COMPRESS_BYTE_COUNT	925546
+SHUFFLE	COPY_MAP_DATA	27896000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	895882
+SHUFFLE	COMPRESS_BYTE_COUNT	895886
+SHUFFLE	COPY_MAP_DATA	591366000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	901960
+SHUFFLE	COMPRESS_BYTE_COUNT	901964
+SHUFFLE	COPY_MAP_DATA	204057000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	898422
+SHUFFLE	COMPRESS_BYTE_COUNT	898426
+SHUFFLE	COPY_MAP_DATA	54629000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	956287
+SHUFFLE	COMPRESS_BYTE_COUNT	956291
+SHUFFLE	COPY_MAP_DATA	44472000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	895163
+SHUFFLE	COMPRESS_BYTE_COUNT	895167
+SHUFFLE	COPY_MAP_DATA	59133000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	932780
+SHUFFLE	COMPRESS_BYTE_COUNT	932784
+SHUFFLE	COPY_MAP_DATA	58427000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	892345
+SHUFFLE	COMPRESS_BYTE_COUNT	892349
+SHUFFLE	COPY_MAP_DATA	97724000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	877060
+SHUFFLE	COMPRESS_BYTE_COUNT	877064
+SHUFFLE	COPY_MAP_DATA	791846000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	890376
+SHUFFLE	COMPRESS_BYTE_COUNT	890380
+SHUFFLE	COPY_MAP_DATA	42828000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	897842
+SHUFFLE	COMPRESS_BYTE_COUNT	897846
+SHUFFLE	COPY_MAP_DATA	18533000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	927149
+SHUFFLE	COMPRESS_BYTE_COUNT	927153
+SHUFFLE	COPY_MAP_DATA	30864000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	934471
+SHUFFLE	COMPRESS_BYTE_COUNT	934475
+SHUFFLE	COPY_MAP_DATA	100216000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	834901
+SHUFFLE	COMPRESS_BYTE_COUNT	834905
+SHUFFLE	COPY_MAP_DATA	18452000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	881760
+SHUFFLE	COMPRESS_BYTE_COUNT	881764
+SHUFFLE	COPY_MAP_DATA	37526000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	886779
+SHUFFLE	COMPRESS_BYTE_COUNT	886783
+SHUFFLE	COPY_MAP_DATA	258514000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	835116
+SHUFFLE	COMPRESS_BYTE_COUNT	835120
+SHUFFLE	COPY_MAP_DATA	10371000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	870674
+SHUFFLE	COMPRESS_BYTE_COUNT	870678
+SHUFFLE	COPY_MAP_DATA	69780000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	908337
+SHUFFLE	COMPRESS_BYTE_COUNT	908341
+SHUFFLE	COPY_MAP_DATA	408450000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	930544
+SHUFFLE	COMPRESS_BYTE_COUNT	930548
+SHUFFLE	COPY_MAP_DATA	58208000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	834443
+SHUFFLE	COMPRESS_BYTE_COUNT	834447
+SHUFFLE	COPY_MAP_DATA	38893000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	865910
+SHUFFLE	COMPRESS_BYTE_COUNT	865914
+SHUFFLE	COPY_MAP_DATA	478970000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	777728
+SHUFFLE	COMPRESS_BYTE_COUNT	777732
+SHUFFLE	COPY_MAP_DATA	22662000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	809922
+SHUFFLE	COMPRESS_BYTE_COUNT	809926
+SHUFFLE	COPY_MAP_DATA	23498000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	966729
+SHUFFLE	COMPRESS_BYTE_COUNT	966733
+SHUFFLE	COPY_MAP_DATA	29728000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	878806
+SHUFFLE	COMPRESS_BYTE_COUNT	878810
+SHUFFLE	COPY_MAP_DATA	40719000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	869241
+SHUFFLE	COMPRESS_BYTE_COUNT	869245
+SHUFFLE	COPY_MAP_DATA	33411000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	865988
+SHUFFLE	COMPRESS_BYTE_COUNT	865992
+SHUFFLE	COPY_MAP_DATA	512566000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	786115
+SHUFFLE	COMPRESS_BYTE_COUNT	786119
+SHUFFLE	COPY_MAP_DATA	178613000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	825714
+SHUFFLE	COMPRESS_BYTE_COUNT	825718
+SHUFFLE	COPY_MAP_DATA	28662000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	827606
+SHUFFLE	COMPRESS_BYTE_COUNT	827610
+SHUFFLE	COPY_MAP_DATA	329578000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	752451
+SHUFFLE	COMPRESS_BYTE_COUNT	752455
+SHUFFLE	COPY_MAP_DATA	459378000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	873251
+SHUFFLE	COMPRESS_BYTE_COUNT	873255
+SHUFFLE	COPY_MAP_DATA	127891000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	859847
+SHUFFLE	COMPRESS_BYTE_COUNT	859851
+SHUFFLE	COPY_MAP_DATA	482127000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	842308
+SHUFFLE	COMPRESS_BYTE_COUNT	842312
+SHUFFLE	COPY_MAP_DATA	310467000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	961312
+SHUFFLE	COMPRESS_BYTE_COUNT	961316
+SHUFFLE	COPY_MAP_DATA	287698000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	831978
+SHUFFLE	COMPRESS_BYTE_COUNT	831982
+SHUFFLE	COPY_MAP_DATA	211228000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	853854
+SHUFFLE	COMPRESS_BYTE_COUNT	853858
+SHUFFLE	COPY_MAP_DATA	23753000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1012139
+SHUFFLE	COMPRESS_BYTE_COUNT	1012143
+SHUFFLE	COPY_MAP_DATA	246945000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	837177
+SHUFFLE	COMPRESS_BYTE_COUNT	837181
+SHUFFLE	COPY_MAP_DATA	652556000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	758159
+SHUFFLE	COMPRESS_BYTE_COUNT	758163
+SHUFFLE	COPY_MAP_DATA	45898000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	940959
+SHUFFLE	COMPRESS_BYTE_COUNT	940963
+SHUFFLE	COPY_MAP_DATA	21022000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	802343
+SHUFFLE	COMPRESS_BYTE_COUNT	802347
+SHUFFLE	COPY_MAP_DATA	42457000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	870873
+SHUFFLE	COMPRESS_BYTE_COUNT	870877
+SHUFFLE	COPY_MAP_DATA	12257000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	970015
+SHUFFLE	COMPRESS_BYTE_COUNT	970019
+SHUFFLE	COPY_MAP_DATA	87278000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	909134
+SHUFFLE	COMPRESS_BYTE_COUNT	909138
+SHUFFLE	COPY_MAP_DATA	15068000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	821894
+SHUFFLE	COMPRESS_BYTE_COUNT	821898
+SHUFFLE	COPY_MAP_DATA	99384000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	846209
+SHUFFLE	COMPRESS_BYTE_COUNT	846213
+SHUFFLE	COPY_MAP_DATA	326969000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	844330
+SHUFFLE	COMPRESS_BYTE_COUNT	844334
+SHUFFLE	COPY_MAP_DATA	19529000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	846693
+SHUFFLE	COMPRESS_BYTE_COUNT	846697
+SHUFFLE	COPY_MAP_DATA	38176000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	762502
+SHUFFLE	COMPRESS_BYTE_COUNT	762506
+SHUFFLE	COPY_MAP_DATA	153652000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	844135
+SHUFFLE	COMPRESS_BYTE_COUNT	844139
+SHUFFLE	COPY_MAP_DATA	183777000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	784942
+SHUFFLE	COMPRESS_BYTE_COUNT	784946
+SHUFFLE	COPY_MAP_DATA	7811000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	799346
+SHUFFLE	COMPRESS_BYTE_COUNT	799350
+SHUFFLE	COPY_MAP_DATA	37667000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	820472
+SHUFFLE	COMPRESS_BYTE_COUNT	820476
+SHUFFLE	COPY_MAP_DATA	23346000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	784693
+SHUFFLE	COMPRESS_BYTE_COUNT	784697
+SHUFFLE	COPY_MAP_DATA	93874000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	810498
+SHUFFLE	COMPRESS_BYTE_COUNT	810502
+SHUFFLE	COPY_MAP_DATA	93281000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	826644
+SHUFFLE	COMPRESS_BYTE_COUNT	826648
+SHUFFLE	COPY_MAP_DATA	132588000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	860889
+SHUFFLE	COMPRESS_BYTE_COUNT	860893
+SHUFFLE	COPY_MAP_DATA	24544000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	808399
+SHUFFLE	COMPRESS_BYTE_COUNT	808403
+SHUFFLE	COPY_MAP_DATA	10021000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	782962
+SHUFFLE	COMPRESS_BYTE_COUNT	782966
+SHUFFLE	COPY_MAP_DATA	157937000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	773026
+SHUFFLE	COMPRESS_BYTE_COUNT	773030
+SHUFFLE	COPY_MAP_DATA	78058000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	857880
+SHUFFLE	COMPRESS_BYTE_COUNT	857884
+SHUFFLE	COPY_MAP_DATA	81566000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	864499
+SHUFFLE	COMPRESS_BYTE_COUNT	864503
+SHUFFLE	COPY_MAP_DATA	129247000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	798342
+SHUFFLE	COMPRESS_BYTE_COUNT	798346
+SHUFFLE	COPY_MAP_DATA	23083000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	803756
+SHUFFLE	COMPRESS_BYTE_COUNT	803760
+SHUFFLE	COPY_MAP_DATA	16306000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1065227
+SHUFFLE	COMPRESS_BYTE_COUNT	1065231
+SHUFFLE	COPY_MAP_DATA	20727000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	729268
+SHUFFLE	COMPRESS_BYTE_COUNT	729272
+SHUFFLE	COPY_MAP_DATA	546908000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	864210
+SHUFFLE	COMPRESS_BYTE_COUNT	864214
+SHUFFLE	COPY_MAP_DATA	85359000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	754941
+SHUFFLE	COMPRESS_BYTE_COUNT	754945
+SHUFFLE	COPY_MAP_DATA	19169000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1218071
+SHUFFLE	COMPRESS_BYTE_COUNT	1218075
+SHUFFLE	COPY_MAP_DATA	178038000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	764832
+SHUFFLE	COMPRESS_BYTE_COUNT	764836
+SHUFFLE	COPY_MAP_DATA	52540000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	896944
+SHUFFLE	COMPRESS_BYTE_COUNT	896948
+SHUFFLE	COPY_MAP_DATA	121112000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	728223
+SHUFFLE	COMPRESS_BYTE_COUNT	728227
+SHUFFLE	COPY_MAP_DATA	9001000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	829589
+SHUFFLE	COMPRESS_BYTE_COUNT	829593
+SHUFFLE	COPY_MAP_DATA	17350000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	769275
+SHUFFLE	COMPRESS_BYTE_COUNT	769279
+SHUFFLE	COPY_MAP_DATA	9861000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	775313
+SHUFFLE	COMPRESS_BYTE_COUNT	775317
+SHUFFLE	COPY_MAP_DATA	2626193000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	817111
+SHUFFLE	COMPRESS_BYTE_COUNT	817115
+SHUFFLE	COPY_MAP_DATA	33270000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	748069
+SHUFFLE	COMPRESS_BYTE_COUNT	748073
+SHUFFLE	COPY_MAP_DATA	23741000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	755486
+SHUFFLE	COMPRESS_BYTE_COUNT	755490
+SHUFFLE	COPY_MAP_DATA	20030000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	829198
+SHUFFLE	COMPRESS_BYTE_COUNT	829202
+SHUFFLE	COPY_MAP_DATA	15617000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	970124
+SHUFFLE	COMPRESS_BYTE_COUNT	970128
+SHUFFLE	COPY_MAP_DATA	280635000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	786169
+SHUFFLE	COMPRESS_BYTE_COUNT	786173
+SHUFFLE	COPY_MAP_DATA	39404000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	804012
+SHUFFLE	COMPRESS_BYTE_COUNT	804016
+SHUFFLE	COPY_MAP_DATA	1822977000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	810401
+SHUFFLE	COMPRESS_BYTE_COUNT	810405
+SHUFFLE	COPY_MAP_DATA	147843000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	854091
+SHUFFLE	COMPRESS_BYTE_COUNT	854095
+SHUFFLE	COPY_MAP_DATA	276996000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	927181
+SHUFFLE	COMPRESS_BYTE_COUNT	927185
+SHUFFLE	COPY_MAP_DATA	382785000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	847356
+SHUFFLE	COMPRESS_BYTE_COUNT	847360
+SHUFFLE	COPY_MAP_DATA	17617000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	818194
+SHUFFLE	COMPRESS_BYTE_COUNT	818198
+SHUFFLE	COPY_MAP_DATA	15675000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	863071
+SHUFFLE	COMPRESS_BYTE_COUNT	863075
+SHUFFLE	COPY_MAP_DATA	54238000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	708750
+SHUFFLE	COMPRESS_BYTE_COUNT	708754
+SHUFFLE	COPY_MAP_DATA	226727000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	770844
+SHUFFLE	COMPRESS_BYTE_COUNT	770848
+SHUFFLE	COPY_MAP_DATA	34896000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	894321
+SHUFFLE	COMPRESS_BYTE_COUNT	894325
+SHUFFLE	COPY_MAP_DATA	758012000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	752831
+SHUFFLE	COMPRESS_BYTE_COUNT	752835
+SHUFFLE	COPY_MAP_DATA	125635000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	809498
+SHUFFLE	COMPRESS_BYTE_COUNT	809502
+SHUFFLE	COPY_MAP_DATA	6278867000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	855339
+SHUFFLE	COMPRESS_BYTE_COUNT	855343
+SHUFFLE	COPY_MAP_DATA	175879000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	813350
+SHUFFLE	COMPRESS_BYTE_COUNT	813354
+SHUFFLE	COPY_MAP_DATA	239716000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	990916
+SHUFFLE	COMPRESS_BYTE_COUNT	990920
+SHUFFLE	COPY_MAP_DATA	688246000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	707967
+SHUFFLE	COMPRESS_BYTE_COUNT	707971
+SHUFFLE	COPY_MAP_DATA	54898000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	779253
+SHUFFLE	COMPRESS_BYTE_COUNT	779257
+SHUFFLE	COPY_MAP_DATA	112080000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	930999
+SHUFFLE	COMPRESS_BYTE_COUNT	931003
+SHUFFLE	COPY_MAP_DATA	24730000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	764613
+SHUFFLE	COMPRESS_BYTE_COUNT	764617
+SHUFFLE	COPY_MAP_DATA	992237646
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	834368
+SHUFFLE	COMPRESS_BYTE_COUNT	834372
+SHUFFLE	COPY_MAP_DATA	1222052000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	870563
+SHUFFLE	COMPRESS_BYTE_COUNT	870567
+SHUFFLE	COPY_MAP_DATA	19384000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	851369
+SHUFFLE	COMPRESS_BYTE_COUNT	851373
+SHUFFLE	COPY_MAP_DATA	27265000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	828181
+SHUFFLE	COMPRESS_BYTE_COUNT	828185
+SHUFFLE	COPY_MAP_DATA	24362000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	765712
+SHUFFLE	COMPRESS_BYTE_COUNT	765716
+SHUFFLE	COPY_MAP_DATA	17193000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	708750
+SHUFFLE	COMPRESS_BYTE_COUNT	708754
+SHUFFLE	COPY_MAP_DATA	67059000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	754565
+SHUFFLE	COMPRESS_BYTE_COUNT	754569
+SHUFFLE	COPY_MAP_DATA	433621000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	854034
+SHUFFLE	COMPRESS_BYTE_COUNT	854038
+SHUFFLE	COPY_MAP_DATA	38985000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	693988
+SHUFFLE	COMPRESS_BYTE_COUNT	693992
+SHUFFLE	COPY_MAP_DATA	24656000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	907707
+SHUFFLE	COMPRESS_BYTE_COUNT	907711
+SHUFFLE	COPY_MAP_DATA	106778000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	846575
+SHUFFLE	COMPRESS_BYTE_COUNT	846579
+SHUFFLE	COPY_MAP_DATA	34169000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	746632
+SHUFFLE	COMPRESS_BYTE_COUNT	746636
+SHUFFLE	COPY_MAP_DATA	25454000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	796007
+SHUFFLE	COMPRESS_BYTE_COUNT	796011
+SHUFFLE	COPY_MAP_DATA	9814000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	795931
+SHUFFLE	COMPRESS_BYTE_COUNT	795935
+SHUFFLE	COPY_MAP_DATA	72260000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	746441
+SHUFFLE	COMPRESS_BYTE_COUNT	746445
+SHUFFLE	COPY_MAP_DATA	1054087000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	827187
+SHUFFLE	COMPRESS_BYTE_COUNT	827191
+SHUFFLE	COPY_MAP_DATA	37006000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	771483
+SHUFFLE	COMPRESS_BYTE_COUNT	771487
+SHUFFLE	COPY_MAP_DATA	35775000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	812029
+SHUFFLE	COMPRESS_BYTE_COUNT	812033
+SHUFFLE	COPY_MAP_DATA	17101000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	985613
+SHUFFLE	COMPRESS_BYTE_COUNT	985617
+SHUFFLE	COPY_MAP_DATA	44721000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	644044
+SHUFFLE	COMPRESS_BYTE_COUNT	644048
+SHUFFLE	COPY_MAP_DATA	905922000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	746461
+SHUFFLE	COMPRESS_BYTE_COUNT	746465
+SHUFFLE	COPY_MAP_DATA	14295000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	789207
+SHUFFLE	COMPRESS_BYTE_COUNT	789211
+SHUFFLE	COPY_MAP_DATA	15491000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	952824
+SHUFFLE	COMPRESS_BYTE_COUNT	952828
+SHUFFLE	COPY_MAP_DATA	20446000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	823438
+SHUFFLE	COMPRESS_BYTE_COUNT	823442
+SHUFFLE	COPY_MAP_DATA	19226000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	945188
+SHUFFLE	COMPRESS_BYTE_COUNT	945192
+SHUFFLE	COPY_MAP_DATA	9360000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	871257
+SHUFFLE	COMPRESS_BYTE_COUNT	871261
+SHUFFLE	COPY_MAP_DATA	16154000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	763960
+SHUFFLE	COMPRESS_BYTE_COUNT	763964
+SHUFFLE	COPY_MAP_DATA	20873000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	89654354619
+MERGE	READ_WRITE	89290999619
+MERGE	READ_WRITE_COUNT	2
+MERGE	COMBINE	0
+MERGE	WRITE	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	17427966000
+SORT	READ_WRITE	17296208000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	172174560
+REDUCE	SETUP	358000
+REDUCE	SETUP_MEM	172174560
+REDUCE	CLEANUP	39000
+REDUCE	CLEANUP_MEM	132158832
+REDUCE	TOTAL_RUN	119615606941
+REDUCE	READ	9400286000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	101442387538
+REDUCE	WRITE	33854213000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	73230088
+REDUCE	VALUE_BYTE_COUNT	66211102
+REDUCE	REDUCE_MEM	132158832
+REDUCE	WRITE	8919000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	669293594267
@@ -0,0 +1,1333 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1918796
+SHUFFLE	COMPRESS_BYTE_COUNT	1918800
+SHUFFLE	COPY_MAP_DATA	584450000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1836127
+SHUFFLE	COMPRESS_BYTE_COUNT	1836131
+SHUFFLE	COPY_MAP_DATA	25554000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1801342
+SHUFFLE	COMPRESS_BYTE_COUNT	1801346
+SHUFFLE	COPY_MAP_DATA	17905000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1929591
+SHUFFLE	COMPRESS_BYTE_COUNT	1929595
+SHUFFLE	COPY_MAP_DATA	61356000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1789407
+SHUFFLE	COMPRESS_BYTE_COUNT	1789411
+SHUFFLE	COPY_MAP_DATA	42368000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1906754
+SHUFFLE	COMPRESS_BYTE_COUNT	1906758
+SHUFFLE	COPY_MAP_DATA	42410000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2048880
+SHUFFLE	COMPRESS_BYTE_COUNT	2048884
+SHUFFLE	COPY_MAP_DATA	131102000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1920840
+SHUFFLE	COMPRESS_BYTE_COUNT	1920844
+SHUFFLE	COPY_MAP_DATA	154059000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1972323
+SHUFFLE	COMPRESS_BYTE_COUNT	1972327
+SHUFFLE	COPY_MAP_DATA	89817000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1875326
+SHUFFLE	COMPRESS_BYTE_COUNT	1875330
+SHUFFLE	COPY_MAP_DATA	83115000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1722821
+SHUFFLE	COMPRESS_BYTE_COUNT	1722825
+SHUFFLE	COPY_MAP_DATA	46856000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1931905
+SHUFFLE	COMPRESS_BYTE_COUNT	1931909
+SHUFFLE	COPY_MAP_DATA	52769000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2065784
+SHUFFLE	COMPRESS_BYTE_COUNT	2065788
+SHUFFLE	COPY_MAP_DATA	88968000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1950137
+SHUFFLE	COMPRESS_BYTE_COUNT	1950141
+SHUFFLE	COPY_MAP_DATA	149479000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2016962
+SHUFFLE	COMPRESS_BYTE_COUNT	2016966
+SHUFFLE	COPY_MAP_DATA	102441000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1906065
+SHUFFLE	COMPRESS_BYTE_COUNT	1906069
+SHUFFLE	COPY_MAP_DATA	33668000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1933298
+SHUFFLE	COMPRESS_BYTE_COUNT	1933302
+SHUFFLE	COPY_MAP_DATA	26584000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2046741
+SHUFFLE	COMPRESS_BYTE_COUNT	2046745
+SHUFFLE	COPY_MAP_DATA	144964000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1912395
+SHUFFLE	COMPRESS_BYTE_COUNT	1912399
+SHUFFLE	COPY_MAP_DATA	25297000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1830461
+SHUFFLE	COMPRESS_BYTE_COUNT	1830465
+SHUFFLE	COPY_MAP_DATA	43376000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2005037
+SHUFFLE	COMPRESS_BYTE_COUNT	2005041
+SHUFFLE	COPY_MAP_DATA	26570000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1999911
+SHUFFLE	COMPRESS_BYTE_COUNT	1999915
+SHUFFLE	COPY_MAP_DATA	42838000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1939804
+SHUFFLE	COMPRESS_BYTE_COUNT	1939808
+SHUFFLE	COPY_MAP_DATA	36448000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2058414
+SHUFFLE	COMPRESS_BYTE_COUNT	2058418
+SHUFFLE	COPY_MAP_DATA	41096000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1943820
+SHUFFLE	COMPRESS_BYTE_COUNT	1943824
+SHUFFLE	COPY_MAP_DATA	22931000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1989192
+SHUFFLE	COMPRESS_BYTE_COUNT	1989196
+SHUFFLE	COPY_MAP_DATA	116090000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1870258
+SHUFFLE	COMPRESS_BYTE_COUNT	1870262
+SHUFFLE	COPY_MAP_DATA	91246000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2113141
+SHUFFLE	COMPRESS_BYTE_COUNT	2113145
+SHUFFLE	COPY_MAP_DATA	133271000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2000374
+SHUFFLE	COMPRESS_BYTE_COUNT	2000378
+SHUFFLE	COPY_MAP_DATA	21774000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2131023
+SHUFFLE	COMPRESS_BYTE_COUNT	2131027
+SHUFFLE	COPY_MAP_DATA	96057000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1944225
+SHUFFLE	COMPRESS_BYTE_COUNT	1944229
+SHUFFLE	COPY_MAP_DATA	5545394000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1871297
+SHUFFLE	COMPRESS_BYTE_COUNT	1871301
+SHUFFLE	COPY_MAP_DATA	1447579000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1979462
+SHUFFLE	COMPRESS_BYTE_COUNT	1979466
+SHUFFLE	COPY_MAP_DATA	638342000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1801074
+SHUFFLE	COMPRESS_BYTE_COUNT	1801078
+SHUFFLE	COPY_MAP_DATA	25872000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1905494
+SHUFFLE	COMPRESS_BYTE_COUNT	1905498
+SHUFFLE	COPY_MAP_DATA	2861603000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1709958
+SHUFFLE	COMPRESS_BYTE_COUNT	1709962
+SHUFFLE	COPY_MAP_DATA	421253000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1835227
+SHUFFLE	COMPRESS_BYTE_COUNT	1835231
+SHUFFLE	COPY_MAP_DATA	22774000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1862240
+SHUFFLE	COMPRESS_BYTE_COUNT	1862244
+SHUFFLE	COPY_MAP_DATA	80731000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1638040
+SHUFFLE	COMPRESS_BYTE_COUNT	1638044
+SHUFFLE	COPY_MAP_DATA	25755000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1863276
+SHUFFLE	COMPRESS_BYTE_COUNT	1863280
+SHUFFLE	COPY_MAP_DATA	54989000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1861994
+SHUFFLE	COMPRESS_BYTE_COUNT	1861998
+SHUFFLE	COPY_MAP_DATA	83832000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1822337
+SHUFFLE	COMPRESS_BYTE_COUNT	1822341
+SHUFFLE	COPY_MAP_DATA	362625000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1953262
+SHUFFLE	COMPRESS_BYTE_COUNT	1953266
+SHUFFLE	COPY_MAP_DATA	43754000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1589788
+SHUFFLE	COMPRESS_BYTE_COUNT	1589792
+SHUFFLE	COPY_MAP_DATA	259601000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1922172
+SHUFFLE	COMPRESS_BYTE_COUNT	1922176
+SHUFFLE	COPY_MAP_DATA	58593000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1836883
+SHUFFLE	COMPRESS_BYTE_COUNT	1836887
+SHUFFLE	COPY_MAP_DATA	175199000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1861220
+SHUFFLE	COMPRESS_BYTE_COUNT	1861224
+SHUFFLE	COPY_MAP_DATA	3309774000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1760145
+SHUFFLE	COMPRESS_BYTE_COUNT	1760149
+SHUFFLE	COPY_MAP_DATA	24286000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1742598
+SHUFFLE	COMPRESS_BYTE_COUNT	1742602
+SHUFFLE	COPY_MAP_DATA	25464000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1580950
+SHUFFLE	COMPRESS_BYTE_COUNT	1580954
+SHUFFLE	COPY_MAP_DATA	19490000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1906517
+SHUFFLE	COMPRESS_BYTE_COUNT	1906521
+SHUFFLE	COPY_MAP_DATA	46076000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1638501
+SHUFFLE	COMPRESS_BYTE_COUNT	1638505
+SHUFFLE	COPY_MAP_DATA	41713000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1896922
+SHUFFLE	COMPRESS_BYTE_COUNT	1896926
+SHUFFLE	COPY_MAP_DATA	221012000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1602312
+SHUFFLE	COMPRESS_BYTE_COUNT	1602316
+SHUFFLE	COPY_MAP_DATA	256029000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1599579
+SHUFFLE	COMPRESS_BYTE_COUNT	1599583
+SHUFFLE	COPY_MAP_DATA	21577000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1832138
+SHUFFLE	COMPRESS_BYTE_COUNT	1832142
+SHUFFLE	COPY_MAP_DATA	246740000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1875766
+SHUFFLE	COMPRESS_BYTE_COUNT	1875770
+SHUFFLE	COPY_MAP_DATA	1196795000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1777005
+SHUFFLE	COMPRESS_BYTE_COUNT	1777009
+SHUFFLE	COPY_MAP_DATA	25232000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1864171
+SHUFFLE	COMPRESS_BYTE_COUNT	1864175
+SHUFFLE	COPY_MAP_DATA	161709000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1734210
+SHUFFLE	COMPRESS_BYTE_COUNT	1734214
+SHUFFLE	COPY_MAP_DATA	172064000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1876900
+SHUFFLE	COMPRESS_BYTE_COUNT	1876904
+SHUFFLE	COPY_MAP_DATA	865050000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1615101
+SHUFFLE	COMPRESS_BYTE_COUNT	1615105
+SHUFFLE	COPY_MAP_DATA	26245000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1539555
+SHUFFLE	COMPRESS_BYTE_COUNT	1539559
+SHUFFLE	COPY_MAP_DATA	1624771000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1628737
+SHUFFLE	COMPRESS_BYTE_COUNT	1628741
+SHUFFLE	COPY_MAP_DATA	453069000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1552115
+SHUFFLE	COMPRESS_BYTE_COUNT	1552119
+SHUFFLE	COPY_MAP_DATA	857395000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1604117
+SHUFFLE	COMPRESS_BYTE_COUNT	1604121
+SHUFFLE	COPY_MAP_DATA	536138000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1634410
+SHUFFLE	COMPRESS_BYTE_COUNT	1634414
+SHUFFLE	COPY_MAP_DATA	20794000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1671530
+SHUFFLE	COMPRESS_BYTE_COUNT	1671534
+SHUFFLE	COPY_MAP_DATA	27839000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1737048
+SHUFFLE	COMPRESS_BYTE_COUNT	1737052
+SHUFFLE	COPY_MAP_DATA	37260000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1871044
+SHUFFLE	COMPRESS_BYTE_COUNT	1871048
+SHUFFLE	COPY_MAP_DATA	407292000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1869585
+SHUFFLE	COMPRESS_BYTE_COUNT	1869589
+SHUFFLE	COPY_MAP_DATA	645824000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1615467
+SHUFFLE	COMPRESS_BYTE_COUNT	1615471
+SHUFFLE	COPY_MAP_DATA	92073000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1834687
+SHUFFLE	COMPRESS_BYTE_COUNT	1834691
+SHUFFLE	COPY_MAP_DATA	29635000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1602417
+SHUFFLE	COMPRESS_BYTE_COUNT	1602421
+SHUFFLE	COPY_MAP_DATA	254557000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1655893
+SHUFFLE	COMPRESS_BYTE_COUNT	1655897
+SHUFFLE	COPY_MAP_DATA	8062691000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1616255
+SHUFFLE	COMPRESS_BYTE_COUNT	1616259
+SHUFFLE	COPY_MAP_DATA	129511000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1543432
+SHUFFLE	COMPRESS_BYTE_COUNT	1543436
+SHUFFLE	COPY_MAP_DATA	2112075000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1648520
+SHUFFLE	COMPRESS_BYTE_COUNT	1648524
+SHUFFLE	COPY_MAP_DATA	152645000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1691162
+SHUFFLE	COMPRESS_BYTE_COUNT	1691166
+SHUFFLE	COPY_MAP_DATA	270531000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1781175
+SHUFFLE	COMPRESS_BYTE_COUNT	1781179
+SHUFFLE	COPY_MAP_DATA	569944000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1764130
+SHUFFLE	COMPRESS_BYTE_COUNT	1764134
+SHUFFLE	COPY_MAP_DATA	3454755000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1477090
+SHUFFLE	COMPRESS_BYTE_COUNT	1477094
+SHUFFLE	COPY_MAP_DATA	1696000000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1748035
+SHUFFLE	COMPRESS_BYTE_COUNT	1748039
+SHUFFLE	COPY_MAP_DATA	1394554000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1629507
+SHUFFLE	COMPRESS_BYTE_COUNT	1629511
+SHUFFLE	COPY_MAP_DATA	3634268000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1556117
+SHUFFLE	COMPRESS_BYTE_COUNT	1556121
+SHUFFLE	COPY_MAP_DATA	59812000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1741146
+SHUFFLE	COMPRESS_BYTE_COUNT	1741150
+SHUFFLE	COPY_MAP_DATA	20805000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1775232
+SHUFFLE	COMPRESS_BYTE_COUNT	1775236
+SHUFFLE	COPY_MAP_DATA	217531000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1471509
+SHUFFLE	COMPRESS_BYTE_COUNT	1471513
+SHUFFLE	COPY_MAP_DATA	445605000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1721058
+SHUFFLE	COMPRESS_BYTE_COUNT	1721062
+SHUFFLE	COPY_MAP_DATA	116069000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	834521
+SHUFFLE	COMPRESS_BYTE_COUNT	834525
+SHUFFLE	COPY_MAP_DATA	6335375000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	929082
+SHUFFLE	COMPRESS_BYTE_COUNT	929086
+SHUFFLE	COPY_MAP_DATA	445462000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1630606
+SHUFFLE	COMPRESS_BYTE_COUNT	1630610
+SHUFFLE	COPY_MAP_DATA	196848000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1624029
+SHUFFLE	COMPRESS_BYTE_COUNT	1624033
+SHUFFLE	COPY_MAP_DATA	480257000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1438401
+SHUFFLE	COMPRESS_BYTE_COUNT	1438405
+SHUFFLE	COPY_MAP_DATA	37208000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	888302
+SHUFFLE	COMPRESS_BYTE_COUNT	888306
+SHUFFLE	COPY_MAP_DATA	159104000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1831214
+SHUFFLE	COMPRESS_BYTE_COUNT	1831218
+SHUFFLE	COPY_MAP_DATA	26556000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	996323
+SHUFFLE	COMPRESS_BYTE_COUNT	996327
+SHUFFLE	COPY_MAP_DATA	14384000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	872262
+SHUFFLE	COMPRESS_BYTE_COUNT	872266
+SHUFFLE	COPY_MAP_DATA	70226000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1469114
+SHUFFLE	COMPRESS_BYTE_COUNT	1469118
+SHUFFLE	COPY_MAP_DATA	21462000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	999553
+SHUFFLE	COMPRESS_BYTE_COUNT	999557
+SHUFFLE	COPY_MAP_DATA	412751000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1666118
+SHUFFLE	COMPRESS_BYTE_COUNT	1666122
+SHUFFLE	COPY_MAP_DATA	87124000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1632925
+SHUFFLE	COMPRESS_BYTE_COUNT	1632929
+SHUFFLE	COPY_MAP_DATA	118254000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1001198
+SHUFFLE	COMPRESS_BYTE_COUNT	1001202
+SHUFFLE	COPY_MAP_DATA	40626000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1415493
+SHUFFLE	COMPRESS_BYTE_COUNT	1415497
+SHUFFLE	COPY_MAP_DATA	41019000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1656776
+SHUFFLE	COMPRESS_BYTE_COUNT	1656780
+SHUFFLE	COPY_MAP_DATA	112358000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	968395
+SHUFFLE	COMPRESS_BYTE_COUNT	968399
+SHUFFLE	COPY_MAP_DATA	182242000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1662682
+SHUFFLE	COMPRESS_BYTE_COUNT	1662686
+SHUFFLE	COPY_MAP_DATA	29371000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1740518
+SHUFFLE	COMPRESS_BYTE_COUNT	1740522
+SHUFFLE	COPY_MAP_DATA	24115000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1574880
+SHUFFLE	COMPRESS_BYTE_COUNT	1574884
+SHUFFLE	COPY_MAP_DATA	24143000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1790329
+SHUFFLE	COMPRESS_BYTE_COUNT	1790333
+SHUFFLE	COPY_MAP_DATA	34817000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1070319
+SHUFFLE	COMPRESS_BYTE_COUNT	1070323
+SHUFFLE	COPY_MAP_DATA	276006000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1524670
+SHUFFLE	COMPRESS_BYTE_COUNT	1524674
+SHUFFLE	COPY_MAP_DATA	187563000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1031981
+SHUFFLE	COMPRESS_BYTE_COUNT	1031985
+SHUFFLE	COPY_MAP_DATA	90393000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1222670
+SHUFFLE	COMPRESS_BYTE_COUNT	1222674
+SHUFFLE	COPY_MAP_DATA	1831857000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	995467
+SHUFFLE	COMPRESS_BYTE_COUNT	995471
+SHUFFLE	COPY_MAP_DATA	22546000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1810047
+SHUFFLE	COMPRESS_BYTE_COUNT	1810051
+SHUFFLE	COPY_MAP_DATA	26935000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1659674
+SHUFFLE	COMPRESS_BYTE_COUNT	1659678
+SHUFFLE	COPY_MAP_DATA	2052813000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	979126
+SHUFFLE	COMPRESS_BYTE_COUNT	979130
+SHUFFLE	COPY_MAP_DATA	84794000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1047190
+SHUFFLE	COMPRESS_BYTE_COUNT	1047194
+SHUFFLE	COPY_MAP_DATA	17662000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1690416
+SHUFFLE	COMPRESS_BYTE_COUNT	1690420
+SHUFFLE	COPY_MAP_DATA	18240000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	993988
+SHUFFLE	COMPRESS_BYTE_COUNT	993992
+SHUFFLE	COPY_MAP_DATA	294439000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	991318
+SHUFFLE	COMPRESS_BYTE_COUNT	991322
+SHUFFLE	COPY_MAP_DATA	202164000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	984374
+SHUFFLE	COMPRESS_BYTE_COUNT	984378
+SHUFFLE	COPY_MAP_DATA	459920000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1067098
+SHUFFLE	COMPRESS_BYTE_COUNT	1067102
+SHUFFLE	COPY_MAP_DATA	304442000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	873937
+SHUFFLE	COMPRESS_BYTE_COUNT	873941
+SHUFFLE	COPY_MAP_DATA	2813493000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1017095
+SHUFFLE	COMPRESS_BYTE_COUNT	1017099
+SHUFFLE	COPY_MAP_DATA	114433000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	948273
+SHUFFLE	COMPRESS_BYTE_COUNT	948277
+SHUFFLE	COPY_MAP_DATA	118073000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	985887
+SHUFFLE	COMPRESS_BYTE_COUNT	985891
+SHUFFLE	COPY_MAP_DATA	171721000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	983634
+SHUFFLE	COMPRESS_BYTE_COUNT	983638
+SHUFFLE	COPY_MAP_DATA	147176000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1009040
+SHUFFLE	COMPRESS_BYTE_COUNT	1009044
+SHUFFLE	COPY_MAP_DATA	24299000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	998715
+SHUFFLE	COMPRESS_BYTE_COUNT	998719
+SHUFFLE	COPY_MAP_DATA	95203000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	972949
+SHUFFLE	COMPRESS_BYTE_COUNT	972953
+SHUFFLE	COPY_MAP_DATA	19523000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	972417
+SHUFFLE	COMPRESS_BYTE_COUNT	972421
+SHUFFLE	COPY_MAP_DATA	13808000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	999908
+SHUFFLE	COMPRESS_BYTE_COUNT	999912
+SHUFFLE	COPY_MAP_DATA	18699000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	896202
+SHUFFLE	COMPRESS_BYTE_COUNT	896206
+SHUFFLE	COPY_MAP_DATA	2186975000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1548177
+SHUFFLE	COMPRESS_BYTE_COUNT	1548181
+SHUFFLE	COPY_MAP_DATA	11232783000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1014903
+SHUFFLE	COMPRESS_BYTE_COUNT	1014907
+SHUFFLE	COPY_MAP_DATA	73502000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	949392
+SHUFFLE	COMPRESS_BYTE_COUNT	949396
+SHUFFLE	COPY_MAP_DATA	609469000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1022976
+SHUFFLE	COMPRESS_BYTE_COUNT	1022980
+SHUFFLE	COPY_MAP_DATA	61767000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	996385
+SHUFFLE	COMPRESS_BYTE_COUNT	996389
+SHUFFLE	COPY_MAP_DATA	37599000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	958340
+SHUFFLE	COMPRESS_BYTE_COUNT	958344
+SHUFFLE	COPY_MAP_DATA	22272000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	961923
+SHUFFLE	COMPRESS_BYTE_COUNT	961927
+SHUFFLE	COPY_MAP_DATA	444682000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	990136
+SHUFFLE	COMPRESS_BYTE_COUNT	990140
+SHUFFLE	COPY_MAP_DATA	433412000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	943619
+SHUFFLE	COMPRESS_BYTE_COUNT	943623
+SHUFFLE	COPY_MAP_DATA	195923000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	971345
+SHUFFLE	COMPRESS_BYTE_COUNT	971349
+SHUFFLE	COPY_MAP_DATA	36456000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1113930
+SHUFFLE	COMPRESS_BYTE_COUNT	1113934
+SHUFFLE	COPY_MAP_DATA	724903000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	966256
+SHUFFLE	COMPRESS_BYTE_COUNT	966260
+SHUFFLE	COPY_MAP_DATA	1296786000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	977190
+SHUFFLE	COMPRESS_BYTE_COUNT	977194
+SHUFFLE	COPY_MAP_DATA	46799000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	952408
+SHUFFLE	COMPRESS_BYTE_COUNT	952412
+SHUFFLE	COPY_MAP_DATA	390039000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	985488
+SHUFFLE	COMPRESS_BYTE_COUNT	985492
+SHUFFLE	COPY_MAP_DATA	119374000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1104103
+SHUFFLE	COMPRESS_BYTE_COUNT	1104107
+SHUFFLE	COPY_MAP_DATA	95311000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1052497
+SHUFFLE	COMPRESS_BYTE_COUNT	1052501
+SHUFFLE	COPY_MAP_DATA	134826000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	929758
+SHUFFLE	COMPRESS_BYTE_COUNT	929762
+SHUFFLE	COPY_MAP_DATA	17396000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	936361
+SHUFFLE	COMPRESS_BYTE_COUNT	936365
+SHUFFLE	COPY_MAP_DATA	19639000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1003706
+SHUFFLE	COMPRESS_BYTE_COUNT	1003710
+SHUFFLE	COPY_MAP_DATA	8907000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	975840
+SHUFFLE	COMPRESS_BYTE_COUNT	975844
+SHUFFLE	COPY_MAP_DATA	17442000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	936468
+SHUFFLE	COMPRESS_BYTE_COUNT	936472
+SHUFFLE	COPY_MAP_DATA	277522000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	954348
+SHUFFLE	COMPRESS_BYTE_COUNT	954352
+SHUFFLE	COPY_MAP_DATA	486807000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	935443
+SHUFFLE	COMPRESS_BYTE_COUNT	935447
+SHUFFLE	COPY_MAP_DATA	19358000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	977566
+SHUFFLE	COMPRESS_BYTE_COUNT	977570
+SHUFFLE	COPY_MAP_DATA	142249000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1012811
+SHUFFLE	COMPRESS_BYTE_COUNT	1012815
+SHUFFLE	COPY_MAP_DATA	18725000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	984480
+SHUFFLE	COMPRESS_BYTE_COUNT	984484
+SHUFFLE	COPY_MAP_DATA	26435000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	994939
+SHUFFLE	COMPRESS_BYTE_COUNT	994943
+SHUFFLE	COPY_MAP_DATA	33263000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	967463
+SHUFFLE	COMPRESS_BYTE_COUNT	967467
+SHUFFLE	COPY_MAP_DATA	118599000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	985801
+SHUFFLE	COMPRESS_BYTE_COUNT	985805
+SHUFFLE	COPY_MAP_DATA	51656000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	963005
+SHUFFLE	COMPRESS_BYTE_COUNT	963009
+SHUFFLE	COPY_MAP_DATA	12286000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	942392
+SHUFFLE	COMPRESS_BYTE_COUNT	942396
+SHUFFLE	COPY_MAP_DATA	28631000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	937694
+SHUFFLE	COMPRESS_BYTE_COUNT	937698
+SHUFFLE	COPY_MAP_DATA	20521000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1003624
+SHUFFLE	COMPRESS_BYTE_COUNT	1003628
+SHUFFLE	COPY_MAP_DATA	77169000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	923859
+SHUFFLE	COMPRESS_BYTE_COUNT	923863
+SHUFFLE	COPY_MAP_DATA	22622000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	944144
+SHUFFLE	COMPRESS_BYTE_COUNT	944148
+SHUFFLE	COPY_MAP_DATA	56921000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	948395
+SHUFFLE	COMPRESS_BYTE_COUNT	948399
+SHUFFLE	COPY_MAP_DATA	173524000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	906371
+SHUFFLE	COMPRESS_BYTE_COUNT	906375
+SHUFFLE	COPY_MAP_DATA	8960000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	916457
+SHUFFLE	COMPRESS_BYTE_COUNT	916461
+SHUFFLE	COPY_MAP_DATA	393152000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	969135
+SHUFFLE	COMPRESS_BYTE_COUNT	969139
+SHUFFLE	COPY_MAP_DATA	14733000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	998475
+SHUFFLE	COMPRESS_BYTE_COUNT	998479
+SHUFFLE	COPY_MAP_DATA	1791551000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	958248
+SHUFFLE	COMPRESS_BYTE_COUNT	958252
+SHUFFLE	COPY_MAP_DATA	113524000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	954842
+SHUFFLE	COMPRESS_BYTE_COUNT	954846
+SHUFFLE	COPY_MAP_DATA	16739000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	941331
+SHUFFLE	COMPRESS_BYTE_COUNT	941335
+SHUFFLE	COPY_MAP_DATA	46773000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	914883
+SHUFFLE	COMPRESS_BYTE_COUNT	914887
+SHUFFLE	COPY_MAP_DATA	108239000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	971076
+SHUFFLE	COMPRESS_BYTE_COUNT	971080
+SHUFFLE	COPY_MAP_DATA	22184000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	896236
+SHUFFLE	COMPRESS_BYTE_COUNT	896240
+SHUFFLE	COPY_MAP_DATA	10636000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	989681
+SHUFFLE	COMPRESS_BYTE_COUNT	989685
+SHUFFLE	COPY_MAP_DATA	21815000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	960587
+SHUFFLE	COMPRESS_BYTE_COUNT	960591
+SHUFFLE	COPY_MAP_DATA	17495000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	934227
+SHUFFLE	COMPRESS_BYTE_COUNT	934231
+SHUFFLE	COPY_MAP_DATA	8610000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	919165
+SHUFFLE	COMPRESS_BYTE_COUNT	919169
+SHUFFLE	COPY_MAP_DATA	15536000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	903586
+SHUFFLE	COMPRESS_BYTE_COUNT	903590
+SHUFFLE	COPY_MAP_DATA	19023000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	906472
+SHUFFLE	COMPRESS_BYTE_COUNT	906476
+SHUFFLE	COPY_MAP_DATA	31746000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	928095
+SHUFFLE	COMPRESS_BYTE_COUNT	928099
+SHUFFLE	COPY_MAP_DATA	20030000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1000447
+SHUFFLE	COMPRESS_BYTE_COUNT	1000451
+SHUFFLE	COPY_MAP_DATA	466828000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	954750
+SHUFFLE	COMPRESS_BYTE_COUNT	954754
+SHUFFLE	COPY_MAP_DATA	1577087000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	892837
+SHUFFLE	COMPRESS_BYTE_COUNT	892841
+SHUFFLE	COPY_MAP_DATA	105471000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	921403
+SHUFFLE	COMPRESS_BYTE_COUNT	921407
+SHUFFLE	COPY_MAP_DATA	265948000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	882017
+SHUFFLE	COMPRESS_BYTE_COUNT	882021
+SHUFFLE	COPY_MAP_DATA	609376000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	934147
+SHUFFLE	COMPRESS_BYTE_COUNT	934151
+SHUFFLE	COPY_MAP_DATA	17890000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	871970
+SHUFFLE	COMPRESS_BYTE_COUNT	871974
+SHUFFLE	COPY_MAP_DATA	16202000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	930737
+SHUFFLE	COMPRESS_BYTE_COUNT	930741
+SHUFFLE	COPY_MAP_DATA	21008000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	962946
+SHUFFLE	COMPRESS_BYTE_COUNT	962950
+SHUFFLE	COPY_MAP_DATA	382034000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	889178
+SHUFFLE	COMPRESS_BYTE_COUNT	889182
+SHUFFLE	COPY_MAP_DATA	19645000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	897414
+SHUFFLE	COMPRESS_BYTE_COUNT	897418
+SHUFFLE	COPY_MAP_DATA	21235000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	911801
+SHUFFLE	COMPRESS_BYTE_COUNT	911805
+SHUFFLE	COPY_MAP_DATA	11358000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	933161
+SHUFFLE	COMPRESS_BYTE_COUNT	933165
+SHUFFLE	COPY_MAP_DATA	848037000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	872570
+SHUFFLE	COMPRESS_BYTE_COUNT	872574
+SHUFFLE	COPY_MAP_DATA	1271352000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	980393
+SHUFFLE	COMPRESS_BYTE_COUNT	980397
+SHUFFLE	COPY_MAP_DATA	501249000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	854632
+SHUFFLE	COMPRESS_BYTE_COUNT	854636
+SHUFFLE	COPY_MAP_DATA	13762000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	833763
+SHUFFLE	COMPRESS_BYTE_COUNT	833767
+SHUFFLE	COPY_MAP_DATA	64012000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	891742
+SHUFFLE	COMPRESS_BYTE_COUNT	891746
+SHUFFLE	COPY_MAP_DATA	246022000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	861549
+SHUFFLE	COMPRESS_BYTE_COUNT	861553
+SHUFFLE	COPY_MAP_DATA	18090000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	916531
+SHUFFLE	COMPRESS_BYTE_COUNT	916535
+SHUFFLE	COPY_MAP_DATA	169767000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	809628
+SHUFFLE	COMPRESS_BYTE_COUNT	809632
+SHUFFLE	COPY_MAP_DATA	13194000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	869194
+SHUFFLE	COMPRESS_BYTE_COUNT	869198
+SHUFFLE	COPY_MAP_DATA	11949000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	852195
+SHUFFLE	COMPRESS_BYTE_COUNT	852199
+SHUFFLE	COPY_MAP_DATA	15795000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	837390
+SHUFFLE	COMPRESS_BYTE_COUNT	837394
+SHUFFLE	COPY_MAP_DATA	1088038000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	824057
+SHUFFLE	COMPRESS_BYTE_COUNT	824061
+SHUFFLE	COPY_MAP_DATA	2011861000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	917439
+SHUFFLE	COMPRESS_BYTE_COUNT	917443
+SHUFFLE	COPY_MAP_DATA	23684000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	865206
+SHUFFLE	COMPRESS_BYTE_COUNT	865210
+SHUFFLE	COPY_MAP_DATA	38797000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	881911
+SHUFFLE	COMPRESS_BYTE_COUNT	881915
+SHUFFLE	COPY_MAP_DATA	2293389000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	824014
+SHUFFLE	COMPRESS_BYTE_COUNT	824018
+SHUFFLE	COPY_MAP_DATA	14088000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	823501
+SHUFFLE	COMPRESS_BYTE_COUNT	823505
+SHUFFLE	COPY_MAP_DATA	70304000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	797837
+SHUFFLE	COMPRESS_BYTE_COUNT	797841
+SHUFFLE	COPY_MAP_DATA	26830000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	771059
+SHUFFLE	COMPRESS_BYTE_COUNT	771063
+SHUFFLE	COPY_MAP_DATA	868690000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	845186
+SHUFFLE	COMPRESS_BYTE_COUNT	845190
+SHUFFLE	COPY_MAP_DATA	18993000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	954365
+SHUFFLE	COMPRESS_BYTE_COUNT	954369
+SHUFFLE	COPY_MAP_DATA	788421000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	858322
+SHUFFLE	COMPRESS_BYTE_COUNT	858326
+SHUFFLE	COPY_MAP_DATA	28368000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	730157
+SHUFFLE	COMPRESS_BYTE_COUNT	730161
+SHUFFLE	COPY_MAP_DATA	2725783000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	840792
+SHUFFLE	COMPRESS_BYTE_COUNT	840796
+SHUFFLE	COPY_MAP_DATA	14850000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	890593
+SHUFFLE	COMPRESS_BYTE_COUNT	890597
+SHUFFLE	COPY_MAP_DATA	233994000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	814422
+SHUFFLE	COMPRESS_BYTE_COUNT	814426
+SHUFFLE	COPY_MAP_DATA	6142000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	837403
+SHUFFLE	COMPRESS_BYTE_COUNT	837407
+SHUFFLE	COPY_MAP_DATA	66301000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	716946
+SHUFFLE	COMPRESS_BYTE_COUNT	716950
+SHUFFLE	COPY_MAP_DATA	57996000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	868405
+SHUFFLE	COMPRESS_BYTE_COUNT	868409
+SHUFFLE	COPY_MAP_DATA	14713000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	856036
+SHUFFLE	COMPRESS_BYTE_COUNT	856040
+SHUFFLE	COPY_MAP_DATA	41378000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	847338
+SHUFFLE	COMPRESS_BYTE_COUNT	847342
+SHUFFLE	COPY_MAP_DATA	990929000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	982253
+SHUFFLE	COMPRESS_BYTE_COUNT	982257
+SHUFFLE	COPY_MAP_DATA	32624000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	828414
+SHUFFLE	COMPRESS_BYTE_COUNT	828418
+SHUFFLE	COPY_MAP_DATA	409678000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	813518
+SHUFFLE	COMPRESS_BYTE_COUNT	813522
+SHUFFLE	COPY_MAP_DATA	152905000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	940309
+SHUFFLE	COMPRESS_BYTE_COUNT	940313
+SHUFFLE	COPY_MAP_DATA	777743000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	834129
+SHUFFLE	COMPRESS_BYTE_COUNT	834133
+SHUFFLE	COPY_MAP_DATA	897045000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	797711
+SHUFFLE	COMPRESS_BYTE_COUNT	797715
+SHUFFLE	COPY_MAP_DATA	11691000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	765799
+SHUFFLE	COMPRESS_BYTE_COUNT	765803
+SHUFFLE	COPY_MAP_DATA	8723000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	773166
+SHUFFLE	COMPRESS_BYTE_COUNT	773170
+SHUFFLE	COPY_MAP_DATA	14382000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	754976
+SHUFFLE	COMPRESS_BYTE_COUNT	754980
+SHUFFLE	COPY_MAP_DATA	17729000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	842280
+SHUFFLE	COMPRESS_BYTE_COUNT	842284
+SHUFFLE	COPY_MAP_DATA	14586000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	835647
+SHUFFLE	COMPRESS_BYTE_COUNT	835651
+SHUFFLE	COPY_MAP_DATA	144817000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	821751
+SHUFFLE	COMPRESS_BYTE_COUNT	821755
+SHUFFLE	COPY_MAP_DATA	1409553000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	925141
+SHUFFLE	COMPRESS_BYTE_COUNT	925145
+SHUFFLE	COPY_MAP_DATA	336850000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	875384
+SHUFFLE	COMPRESS_BYTE_COUNT	875388
+SHUFFLE	COPY_MAP_DATA	16897000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	845266
+SHUFFLE	COMPRESS_BYTE_COUNT	845270
+SHUFFLE	COPY_MAP_DATA	9642000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	863203
+SHUFFLE	COMPRESS_BYTE_COUNT	863207
+SHUFFLE	COPY_MAP_DATA	2574255000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	803412
+SHUFFLE	COMPRESS_BYTE_COUNT	803416
+SHUFFLE	COPY_MAP_DATA	186592000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	767965
+SHUFFLE	COMPRESS_BYTE_COUNT	767969
+SHUFFLE	COPY_MAP_DATA	14906000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	797573
+SHUFFLE	COMPRESS_BYTE_COUNT	797577
+SHUFFLE	COPY_MAP_DATA	17045000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	937068
+SHUFFLE	COMPRESS_BYTE_COUNT	937072
+SHUFFLE	COPY_MAP_DATA	90115000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	848884
+SHUFFLE	COMPRESS_BYTE_COUNT	848888
+SHUFFLE	COPY_MAP_DATA	118389000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	777540
+SHUFFLE	COMPRESS_BYTE_COUNT	777544
+SHUFFLE	COPY_MAP_DATA	234225000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	775045
+SHUFFLE	COMPRESS_BYTE_COUNT	775049
+SHUFFLE	COPY_MAP_DATA	101165000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	829824
+SHUFFLE	COMPRESS_BYTE_COUNT	829828
+SHUFFLE	COPY_MAP_DATA	17711000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	849439
+SHUFFLE	COMPRESS_BYTE_COUNT	849443
+SHUFFLE	COPY_MAP_DATA	21531000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	756027
+SHUFFLE	COMPRESS_BYTE_COUNT	756031
+SHUFFLE	COPY_MAP_DATA	14363000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	784152
+SHUFFLE	COMPRESS_BYTE_COUNT	784156
+SHUFFLE	COPY_MAP_DATA	215321000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1159956
+SHUFFLE	COMPRESS_BYTE_COUNT	1159960
+SHUFFLE	COPY_MAP_DATA	783037000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	902771
+SHUFFLE	COMPRESS_BYTE_COUNT	902775
+SHUFFLE	COPY_MAP_DATA	263355000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	736886
+SHUFFLE	COMPRESS_BYTE_COUNT	736890
+SHUFFLE	COPY_MAP_DATA	610159000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1036852
+SHUFFLE	COMPRESS_BYTE_COUNT	1036856
+SHUFFLE	COPY_MAP_DATA	26994000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	865764
+SHUFFLE	COMPRESS_BYTE_COUNT	865768
+SHUFFLE	COPY_MAP_DATA	382229000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	763272
+SHUFFLE	COMPRESS_BYTE_COUNT	763276
+SHUFFLE	COPY_MAP_DATA	14177000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	755193
+SHUFFLE	COMPRESS_BYTE_COUNT	755197
+SHUFFLE	COPY_MAP_DATA	28636000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	773992
+SHUFFLE	COMPRESS_BYTE_COUNT	773996
+SHUFFLE	COPY_MAP_DATA	68107000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	864092
+SHUFFLE	COMPRESS_BYTE_COUNT	864096
+SHUFFLE	COPY_MAP_DATA	8483000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	799982
+SHUFFLE	COMPRESS_BYTE_COUNT	799986
+SHUFFLE	COPY_MAP_DATA	14812000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	778047
+SHUFFLE	COMPRESS_BYTE_COUNT	778051
+SHUFFLE	COPY_MAP_DATA	169014000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	739244
+SHUFFLE	COMPRESS_BYTE_COUNT	739248
+SHUFFLE	COPY_MAP_DATA	138999000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	785279
+SHUFFLE	COMPRESS_BYTE_COUNT	785283
+SHUFFLE	COPY_MAP_DATA	40026000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	765536
+SHUFFLE	COMPRESS_BYTE_COUNT	765540
+SHUFFLE	COPY_MAP_DATA	17806000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	737848
+SHUFFLE	COMPRESS_BYTE_COUNT	737852
+SHUFFLE	COPY_MAP_DATA	17808000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	937963
+SHUFFLE	COMPRESS_BYTE_COUNT	937967
+SHUFFLE	COPY_MAP_DATA	17226000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1056069
+SHUFFLE	COMPRESS_BYTE_COUNT	1056073
+SHUFFLE	COPY_MAP_DATA	867891000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	768457
+SHUFFLE	COMPRESS_BYTE_COUNT	768461
+SHUFFLE	COPY_MAP_DATA	186644000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	766772
+SHUFFLE	COMPRESS_BYTE_COUNT	766776
+SHUFFLE	COPY_MAP_DATA	563490000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	952096
+SHUFFLE	COMPRESS_BYTE_COUNT	952100
+SHUFFLE	COPY_MAP_DATA	4212750000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	766391
+SHUFFLE	COMPRESS_BYTE_COUNT	766395
+SHUFFLE	COPY_MAP_DATA	32912000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	861052
+SHUFFLE	COMPRESS_BYTE_COUNT	861056
+SHUFFLE	COPY_MAP_DATA	38862000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	797524
+SHUFFLE	COMPRESS_BYTE_COUNT	797528
+SHUFFLE	COPY_MAP_DATA	1624998000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	818733
+SHUFFLE	COMPRESS_BYTE_COUNT	818737
+SHUFFLE	COPY_MAP_DATA	557393000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	819990
+SHUFFLE	COMPRESS_BYTE_COUNT	819994
+SHUFFLE	COPY_MAP_DATA	26194000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	908207
+SHUFFLE	COMPRESS_BYTE_COUNT	908211
+SHUFFLE	COPY_MAP_DATA	10311000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	870965
+SHUFFLE	COMPRESS_BYTE_COUNT	870969
+SHUFFLE	COPY_MAP_DATA	19447000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	739904
+SHUFFLE	COMPRESS_BYTE_COUNT	739908
+SHUFFLE	COPY_MAP_DATA	373297000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	872086
+SHUFFLE	COMPRESS_BYTE_COUNT	872090
+SHUFFLE	COPY_MAP_DATA	342564000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	766030
+SHUFFLE	COMPRESS_BYTE_COUNT	766034
+SHUFFLE	COPY_MAP_DATA	92118000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	768389
+SHUFFLE	COMPRESS_BYTE_COUNT	768393
+SHUFFLE	COPY_MAP_DATA	247337000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	870360
+SHUFFLE	COMPRESS_BYTE_COUNT	870364
+SHUFFLE	COPY_MAP_DATA	67975000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	791682
+SHUFFLE	COMPRESS_BYTE_COUNT	791686
+SHUFFLE	COPY_MAP_DATA	5011603000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	811176
+SHUFFLE	COMPRESS_BYTE_COUNT	811180
+SHUFFLE	COPY_MAP_DATA	13818000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	986085
+SHUFFLE	COMPRESS_BYTE_COUNT	986089
+SHUFFLE	COPY_MAP_DATA	22552000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	824508
+SHUFFLE	COMPRESS_BYTE_COUNT	824512
+SHUFFLE	COPY_MAP_DATA	14778000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	766908
+SHUFFLE	COMPRESS_BYTE_COUNT	766912
+SHUFFLE	COPY_MAP_DATA	1437501000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	770764
+SHUFFLE	COMPRESS_BYTE_COUNT	770768
+SHUFFLE	COPY_MAP_DATA	91100000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	675131
+SHUFFLE	COMPRESS_BYTE_COUNT	675135
+SHUFFLE	COPY_MAP_DATA	157004000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	862377
+SHUFFLE	COMPRESS_BYTE_COUNT	862381
+SHUFFLE	COPY_MAP_DATA	17821000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	874128
+SHUFFLE	COMPRESS_BYTE_COUNT	874132
+SHUFFLE	COPY_MAP_DATA	8147000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	838235
+SHUFFLE	COMPRESS_BYTE_COUNT	838239
+SHUFFLE	COPY_MAP_DATA	25727000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	739904
+SHUFFLE	COMPRESS_BYTE_COUNT	739908
+SHUFFLE	COPY_MAP_DATA	19472000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	868838
+SHUFFLE	COMPRESS_BYTE_COUNT	868842
+SHUFFLE	COPY_MAP_DATA	16596000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	729650
+SHUFFLE	COMPRESS_BYTE_COUNT	729654
+SHUFFLE	COPY_MAP_DATA	12753000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	867027
+SHUFFLE	COMPRESS_BYTE_COUNT	867031
+SHUFFLE	COPY_MAP_DATA	841062000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	586770
+SHUFFLE	COMPRESS_BYTE_COUNT	586774
+SHUFFLE	COPY_MAP_DATA	19509000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	867994
+SHUFFLE	COMPRESS_BYTE_COUNT	867998
+SHUFFLE	COPY_MAP_DATA	756189000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	794401
+SHUFFLE	COMPRESS_BYTE_COUNT	794405
+SHUFFLE	COPY_MAP_DATA	201358000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	740015
+SHUFFLE	COMPRESS_BYTE_COUNT	740019
+SHUFFLE	COPY_MAP_DATA	17941000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	705712
+SHUFFLE	COMPRESS_BYTE_COUNT	705716
+SHUFFLE	COPY_MAP_DATA	18972000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	748148
+SHUFFLE	COMPRESS_BYTE_COUNT	748152
+SHUFFLE	COPY_MAP_DATA	16538000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	732230
+SHUFFLE	COMPRESS_BYTE_COUNT	732234
+SHUFFLE	COPY_MAP_DATA	118309000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	795155
+SHUFFLE	COMPRESS_BYTE_COUNT	795159
+SHUFFLE	COPY_MAP_DATA	37321000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	800031
+SHUFFLE	COMPRESS_BYTE_COUNT	800035
+SHUFFLE	COPY_MAP_DATA	18698000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	792324
+SHUFFLE	COMPRESS_BYTE_COUNT	792328
+SHUFFLE	COPY_MAP_DATA	14313000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	960768
+SHUFFLE	COMPRESS_BYTE_COUNT	960772
+SHUFFLE	COPY_MAP_DATA	20449000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	780062
+SHUFFLE	COMPRESS_BYTE_COUNT	780066
+SHUFFLE	COPY_MAP_DATA	38633000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	782127
+SHUFFLE	COMPRESS_BYTE_COUNT	782131
+SHUFFLE	COPY_MAP_DATA	12375000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	957088
+SHUFFLE	COMPRESS_BYTE_COUNT	957092
+SHUFFLE	COPY_MAP_DATA	17907000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	644731
+SHUFFLE	COMPRESS_BYTE_COUNT	644735
+SHUFFLE	COPY_MAP_DATA	98195000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	757764
+SHUFFLE	COMPRESS_BYTE_COUNT	757768
+SHUFFLE	COPY_MAP_DATA	16982000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	950001
+SHUFFLE	COMPRESS_BYTE_COUNT	950005
+SHUFFLE	COPY_MAP_DATA	15006000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	492515
+SHUFFLE	COMPRESS_BYTE_COUNT	492519
+SHUFFLE	COPY_MAP_DATA	52453000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	876428
+SHUFFLE	COMPRESS_BYTE_COUNT	876432
+SHUFFLE	COPY_MAP_DATA	16297000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	751381
+SHUFFLE	COMPRESS_BYTE_COUNT	751385
+SHUFFLE	COPY_MAP_DATA	47976000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	80634067000
+MERGE	READ_WRITE	79895249000
+MERGE	READ_WRITE_COUNT	2
+MERGE	COMBINE	0
+MERGE	WRITE	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	16102439000
+SORT	READ_WRITE	15811751000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	122704984
+REDUCE	SETUP	381000
+REDUCE	SETUP_MEM	122704984
+REDUCE	CLEANUP	42000
+REDUCE	CLEANUP_MEM	114331336
+REDUCE	TOTAL_RUN	114072081000
+REDUCE	READ	11824924000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	95579534000
+REDUCE	WRITE	29556461000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	71374769
+REDUCE	VALUE_BYTE_COUNT	65141353
+REDUCE	REDUCE_MEM	114333384
+REDUCE	WRITE	794093000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	653410219735
@@ -0,0 +1,1333 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1926514
+SHUFFLE	COMPRESS_BYTE_COUNT	1926518
+SHUFFLE	COPY_MAP_DATA	1736655000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1781808
+SHUFFLE	COMPRESS_BYTE_COUNT	1781812
+SHUFFLE	COPY_MAP_DATA	23941000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2005997
+SHUFFLE	COMPRESS_BYTE_COUNT	2006001
+SHUFFLE	COPY_MAP_DATA	126011000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1963571
+SHUFFLE	COMPRESS_BYTE_COUNT	1963575
+SHUFFLE	COPY_MAP_DATA	26123000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1917100
+SHUFFLE	COMPRESS_BYTE_COUNT	1917104
+SHUFFLE	COPY_MAP_DATA	664579000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1982772
+SHUFFLE	COMPRESS_BYTE_COUNT	1982776
+SHUFFLE	COPY_MAP_DATA	33870000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1964954
+SHUFFLE	COMPRESS_BYTE_COUNT	1964958
+SHUFFLE	COPY_MAP_DATA	142525000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2051185
+SHUFFLE	COMPRESS_BYTE_COUNT	2051189
+SHUFFLE	COPY_MAP_DATA	51472000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1852969
+SHUFFLE	COMPRESS_BYTE_COUNT	1852973
+SHUFFLE	COPY_MAP_DATA	47411000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1705973
+SHUFFLE	COMPRESS_BYTE_COUNT	1705977
+SHUFFLE	COPY_MAP_DATA	50727000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1822820
+SHUFFLE	COMPRESS_BYTE_COUNT	1822824
+SHUFFLE	COPY_MAP_DATA	64408000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1904904
+SHUFFLE	COMPRESS_BYTE_COUNT	1904908
+SHUFFLE	COPY_MAP_DATA	15513000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2129033
+SHUFFLE	COMPRESS_BYTE_COUNT	2129037
+SHUFFLE	COPY_MAP_DATA	405853000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1910965
+SHUFFLE	COMPRESS_BYTE_COUNT	1910969
+SHUFFLE	COPY_MAP_DATA	45962000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2084385
+SHUFFLE	COMPRESS_BYTE_COUNT	2084389
+SHUFFLE	COPY_MAP_DATA	92094000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1831566
+SHUFFLE	COMPRESS_BYTE_COUNT	1831570
+SHUFFLE	COPY_MAP_DATA	169440000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1952884
+SHUFFLE	COMPRESS_BYTE_COUNT	1952888
+SHUFFLE	COPY_MAP_DATA	33307000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2028234
+SHUFFLE	COMPRESS_BYTE_COUNT	2028238
+SHUFFLE	COPY_MAP_DATA	55607000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1955699
+SHUFFLE	COMPRESS_BYTE_COUNT	1955703
+SHUFFLE	COPY_MAP_DATA	311093000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2073722
+SHUFFLE	COMPRESS_BYTE_COUNT	2073726
+SHUFFLE	COPY_MAP_DATA	51924000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2126555
+SHUFFLE	COMPRESS_BYTE_COUNT	2126559
+SHUFFLE	COPY_MAP_DATA	53397000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2018526
+SHUFFLE	COMPRESS_BYTE_COUNT	2018530
+SHUFFLE	COPY_MAP_DATA	40672000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1860113
+SHUFFLE	COMPRESS_BYTE_COUNT	1860117
+SHUFFLE	COPY_MAP_DATA	27821000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2079651
+SHUFFLE	COMPRESS_BYTE_COUNT	2079655
+SHUFFLE	COPY_MAP_DATA	231854000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1905938
+SHUFFLE	COMPRESS_BYTE_COUNT	1905942
+SHUFFLE	COPY_MAP_DATA	85334000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2012354
+SHUFFLE	COMPRESS_BYTE_COUNT	2012358
+SHUFFLE	COPY_MAP_DATA	23178000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2028092
+SHUFFLE	COMPRESS_BYTE_COUNT	2028096
+SHUFFLE	COPY_MAP_DATA	495426000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2021834
+SHUFFLE	COMPRESS_BYTE_COUNT	2021838
+SHUFFLE	COPY_MAP_DATA	315862000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2031138
+SHUFFLE	COMPRESS_BYTE_COUNT	2031142
+SHUFFLE	COPY_MAP_DATA	50358000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1964695
+SHUFFLE	COMPRESS_BYTE_COUNT	1964699
+SHUFFLE	COPY_MAP_DATA	80878000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1843802
+SHUFFLE	COMPRESS_BYTE_COUNT	1843806
+SHUFFLE	COPY_MAP_DATA	77523000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1792504
+SHUFFLE	COMPRESS_BYTE_COUNT	1792508
+SHUFFLE	COPY_MAP_DATA	2142424000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1987582
+SHUFFLE	COMPRESS_BYTE_COUNT	1987586
+SHUFFLE	COPY_MAP_DATA	549549000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1910554
+SHUFFLE	COMPRESS_BYTE_COUNT	1910558
+SHUFFLE	COPY_MAP_DATA	717011000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2032331
+SHUFFLE	COMPRESS_BYTE_COUNT	2032335
+SHUFFLE	COPY_MAP_DATA	43618000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1839125
+SHUFFLE	COMPRESS_BYTE_COUNT	1839129
+SHUFFLE	COPY_MAP_DATA	347654000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1757240
+SHUFFLE	COMPRESS_BYTE_COUNT	1757244
+SHUFFLE	COPY_MAP_DATA	24911000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1838683
+SHUFFLE	COMPRESS_BYTE_COUNT	1838687
+SHUFFLE	COPY_MAP_DATA	22955000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1689459
+SHUFFLE	COMPRESS_BYTE_COUNT	1689463
+SHUFFLE	COPY_MAP_DATA	18480000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1957839
+SHUFFLE	COMPRESS_BYTE_COUNT	1957843
+SHUFFLE	COPY_MAP_DATA	85217000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1885413
+SHUFFLE	COMPRESS_BYTE_COUNT	1885417
+SHUFFLE	COPY_MAP_DATA	287645000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1809710
+SHUFFLE	COMPRESS_BYTE_COUNT	1809714
+SHUFFLE	COPY_MAP_DATA	272203000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1898266
+SHUFFLE	COMPRESS_BYTE_COUNT	1898270
+SHUFFLE	COPY_MAP_DATA	26794000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1797240
+SHUFFLE	COMPRESS_BYTE_COUNT	1797244
+SHUFFLE	COPY_MAP_DATA	133864000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1817758
+SHUFFLE	COMPRESS_BYTE_COUNT	1817762
+SHUFFLE	COPY_MAP_DATA	214609000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1804117
+SHUFFLE	COMPRESS_BYTE_COUNT	1804121
+SHUFFLE	COPY_MAP_DATA	738985000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1644819
+SHUFFLE	COMPRESS_BYTE_COUNT	1644823
+SHUFFLE	COPY_MAP_DATA	24696000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1935597
+SHUFFLE	COMPRESS_BYTE_COUNT	1935601
+SHUFFLE	COPY_MAP_DATA	37861000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1620640
+SHUFFLE	COMPRESS_BYTE_COUNT	1620644
+SHUFFLE	COPY_MAP_DATA	20029000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1760778
+SHUFFLE	COMPRESS_BYTE_COUNT	1760782
+SHUFFLE	COPY_MAP_DATA	797526000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1777535
+SHUFFLE	COMPRESS_BYTE_COUNT	1777539
+SHUFFLE	COPY_MAP_DATA	271841000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1926614
+SHUFFLE	COMPRESS_BYTE_COUNT	1926618
+SHUFFLE	COPY_MAP_DATA	210922000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1645081
+SHUFFLE	COMPRESS_BYTE_COUNT	1645085
+SHUFFLE	COPY_MAP_DATA	42947000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1596559
+SHUFFLE	COMPRESS_BYTE_COUNT	1596563
+SHUFFLE	COPY_MAP_DATA	21879000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1868568
+SHUFFLE	COMPRESS_BYTE_COUNT	1868572
+SHUFFLE	COPY_MAP_DATA	36839000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1639700
+SHUFFLE	COMPRESS_BYTE_COUNT	1639704
+SHUFFLE	COPY_MAP_DATA	51323000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1852368
+SHUFFLE	COMPRESS_BYTE_COUNT	1852372
+SHUFFLE	COPY_MAP_DATA	522874000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1973161
+SHUFFLE	COMPRESS_BYTE_COUNT	1973165
+SHUFFLE	COPY_MAP_DATA	25333000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1754660
+SHUFFLE	COMPRESS_BYTE_COUNT	1754664
+SHUFFLE	COPY_MAP_DATA	211293000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1726590
+SHUFFLE	COMPRESS_BYTE_COUNT	1726594
+SHUFFLE	COPY_MAP_DATA	307955000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1958382
+SHUFFLE	COMPRESS_BYTE_COUNT	1958386
+SHUFFLE	COPY_MAP_DATA	16573000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1670628
+SHUFFLE	COMPRESS_BYTE_COUNT	1670632
+SHUFFLE	COPY_MAP_DATA	24305000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1748899
+SHUFFLE	COMPRESS_BYTE_COUNT	1748903
+SHUFFLE	COPY_MAP_DATA	636720000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1581896
+SHUFFLE	COMPRESS_BYTE_COUNT	1581900
+SHUFFLE	COPY_MAP_DATA	254544000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1620365
+SHUFFLE	COMPRESS_BYTE_COUNT	1620369
+SHUFFLE	COPY_MAP_DATA	3101120000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1650303
+SHUFFLE	COMPRESS_BYTE_COUNT	1650307
+SHUFFLE	COPY_MAP_DATA	1057544000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1694439
+SHUFFLE	COMPRESS_BYTE_COUNT	1694443
+SHUFFLE	COPY_MAP_DATA	295113000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1725184
+SHUFFLE	COMPRESS_BYTE_COUNT	1725188
+SHUFFLE	COPY_MAP_DATA	889019000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1681933
+SHUFFLE	COMPRESS_BYTE_COUNT	1681937
+SHUFFLE	COPY_MAP_DATA	168880000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1600867
+SHUFFLE	COMPRESS_BYTE_COUNT	1600871
+SHUFFLE	COPY_MAP_DATA	383042000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1917059
+SHUFFLE	COMPRESS_BYTE_COUNT	1917063
+SHUFFLE	COPY_MAP_DATA	61045000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1777852
+SHUFFLE	COMPRESS_BYTE_COUNT	1777856
+SHUFFLE	COPY_MAP_DATA	25128000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1637495
+SHUFFLE	COMPRESS_BYTE_COUNT	1637499
+SHUFFLE	COPY_MAP_DATA	35705000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1658506
+SHUFFLE	COMPRESS_BYTE_COUNT	1658510
+SHUFFLE	COPY_MAP_DATA	36015000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1870770
+SHUFFLE	COMPRESS_BYTE_COUNT	1870774
+SHUFFLE	COPY_MAP_DATA	46040000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1687509
+SHUFFLE	COMPRESS_BYTE_COUNT	1687513
+SHUFFLE	COPY_MAP_DATA	78704000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1865955
+SHUFFLE	COMPRESS_BYTE_COUNT	1865959
+SHUFFLE	COPY_MAP_DATA	5099188000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1673466
+SHUFFLE	COMPRESS_BYTE_COUNT	1673470
+SHUFFLE	COPY_MAP_DATA	2735915000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1650158
+SHUFFLE	COMPRESS_BYTE_COUNT	1650162
+SHUFFLE	COPY_MAP_DATA	31868000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1690111
+SHUFFLE	COMPRESS_BYTE_COUNT	1690115
+SHUFFLE	COPY_MAP_DATA	848420000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1927367
+SHUFFLE	COMPRESS_BYTE_COUNT	1927371
+SHUFFLE	COPY_MAP_DATA	5148106000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1586143
+SHUFFLE	COMPRESS_BYTE_COUNT	1586147
+SHUFFLE	COPY_MAP_DATA	2236862000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1755820
+SHUFFLE	COMPRESS_BYTE_COUNT	1755824
+SHUFFLE	COPY_MAP_DATA	1595322000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1717200
+SHUFFLE	COMPRESS_BYTE_COUNT	1717204
+SHUFFLE	COPY_MAP_DATA	3614225000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1618424
+SHUFFLE	COMPRESS_BYTE_COUNT	1618428
+SHUFFLE	COPY_MAP_DATA	302196000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1788539
+SHUFFLE	COMPRESS_BYTE_COUNT	1788543
+SHUFFLE	COPY_MAP_DATA	730316000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1531780
+SHUFFLE	COMPRESS_BYTE_COUNT	1531784
+SHUFFLE	COPY_MAP_DATA	1375889000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1644103
+SHUFFLE	COMPRESS_BYTE_COUNT	1644107
+SHUFFLE	COPY_MAP_DATA	26729000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1766784
+SHUFFLE	COMPRESS_BYTE_COUNT	1766788
+SHUFFLE	COPY_MAP_DATA	27775000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	821348
+SHUFFLE	COMPRESS_BYTE_COUNT	821352
+SHUFFLE	COPY_MAP_DATA	392378000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1609511
+SHUFFLE	COMPRESS_BYTE_COUNT	1609515
+SHUFFLE	COPY_MAP_DATA	55507000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	922620
+SHUFFLE	COMPRESS_BYTE_COUNT	922624
+SHUFFLE	COPY_MAP_DATA	24551000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	884627
+SHUFFLE	COMPRESS_BYTE_COUNT	884631
+SHUFFLE	COPY_MAP_DATA	17302000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1008239
+SHUFFLE	COMPRESS_BYTE_COUNT	1008243
+SHUFFLE	COPY_MAP_DATA	99127000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2004965
+SHUFFLE	COMPRESS_BYTE_COUNT	2004969
+SHUFFLE	COPY_MAP_DATA	28336000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1503652
+SHUFFLE	COMPRESS_BYTE_COUNT	1503656
+SHUFFLE	COPY_MAP_DATA	15640000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1880891
+SHUFFLE	COMPRESS_BYTE_COUNT	1880895
+SHUFFLE	COPY_MAP_DATA	57035000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	859190
+SHUFFLE	COMPRESS_BYTE_COUNT	859194
+SHUFFLE	COPY_MAP_DATA	18966000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1914467
+SHUFFLE	COMPRESS_BYTE_COUNT	1914471
+SHUFFLE	COPY_MAP_DATA	309252000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1003521
+SHUFFLE	COMPRESS_BYTE_COUNT	1003525
+SHUFFLE	COPY_MAP_DATA	89939000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1480091
+SHUFFLE	COMPRESS_BYTE_COUNT	1480095
+SHUFFLE	COPY_MAP_DATA	24726000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1771860
+SHUFFLE	COMPRESS_BYTE_COUNT	1771864
+SHUFFLE	COPY_MAP_DATA	808059000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1090655
+SHUFFLE	COMPRESS_BYTE_COUNT	1090659
+SHUFFLE	COPY_MAP_DATA	23132000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1724237
+SHUFFLE	COMPRESS_BYTE_COUNT	1724241
+SHUFFLE	COPY_MAP_DATA	61991000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1689573
+SHUFFLE	COMPRESS_BYTE_COUNT	1689577
+SHUFFLE	COPY_MAP_DATA	329635000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1734671
+SHUFFLE	COMPRESS_BYTE_COUNT	1734675
+SHUFFLE	COPY_MAP_DATA	25024000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1751445
+SHUFFLE	COMPRESS_BYTE_COUNT	1751449
+SHUFFLE	COPY_MAP_DATA	56502000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1010210
+SHUFFLE	COMPRESS_BYTE_COUNT	1010214
+SHUFFLE	COPY_MAP_DATA	769357000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	981563
+SHUFFLE	COMPRESS_BYTE_COUNT	981567
+SHUFFLE	COPY_MAP_DATA	507908000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1774211
+SHUFFLE	COMPRESS_BYTE_COUNT	1774215
+SHUFFLE	COPY_MAP_DATA	197874000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1500861
+SHUFFLE	COMPRESS_BYTE_COUNT	1500865
+SHUFFLE	COPY_MAP_DATA	58178000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1655991
+SHUFFLE	COMPRESS_BYTE_COUNT	1655995
+SHUFFLE	COPY_MAP_DATA	107612000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1241364
+SHUFFLE	COMPRESS_BYTE_COUNT	1241368
+SHUFFLE	COPY_MAP_DATA	369325000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1046531
+SHUFFLE	COMPRESS_BYTE_COUNT	1046535
+SHUFFLE	COPY_MAP_DATA	243826000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	993732
+SHUFFLE	COMPRESS_BYTE_COUNT	993736
+SHUFFLE	COPY_MAP_DATA	199139000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	997415
+SHUFFLE	COMPRESS_BYTE_COUNT	997419
+SHUFFLE	COPY_MAP_DATA	837116000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1725631
+SHUFFLE	COMPRESS_BYTE_COUNT	1725635
+SHUFFLE	COPY_MAP_DATA	17267000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1018315
+SHUFFLE	COMPRESS_BYTE_COUNT	1018319
+SHUFFLE	COPY_MAP_DATA	19794000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1726011
+SHUFFLE	COMPRESS_BYTE_COUNT	1726015
+SHUFFLE	COPY_MAP_DATA	794964000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1635237
+SHUFFLE	COMPRESS_BYTE_COUNT	1635241
+SHUFFLE	COPY_MAP_DATA	365082000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1009066
+SHUFFLE	COMPRESS_BYTE_COUNT	1009070
+SHUFFLE	COPY_MAP_DATA	99324000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1000485
+SHUFFLE	COMPRESS_BYTE_COUNT	1000489
+SHUFFLE	COPY_MAP_DATA	1293887000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	995290
+SHUFFLE	COMPRESS_BYTE_COUNT	995294
+SHUFFLE	COPY_MAP_DATA	21023000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1073239
+SHUFFLE	COMPRESS_BYTE_COUNT	1073243
+SHUFFLE	COPY_MAP_DATA	205941000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	851876
+SHUFFLE	COMPRESS_BYTE_COUNT	851880
+SHUFFLE	COPY_MAP_DATA	20175000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1030368
+SHUFFLE	COMPRESS_BYTE_COUNT	1030372
+SHUFFLE	COPY_MAP_DATA	18437000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	947020
+SHUFFLE	COMPRESS_BYTE_COUNT	947024
+SHUFFLE	COPY_MAP_DATA	13274000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1000757
+SHUFFLE	COMPRESS_BYTE_COUNT	1000761
+SHUFFLE	COPY_MAP_DATA	68163000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1006680
+SHUFFLE	COMPRESS_BYTE_COUNT	1006684
+SHUFFLE	COPY_MAP_DATA	34547000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1012677
+SHUFFLE	COMPRESS_BYTE_COUNT	1012681
+SHUFFLE	COPY_MAP_DATA	21745000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	970082
+SHUFFLE	COMPRESS_BYTE_COUNT	970086
+SHUFFLE	COPY_MAP_DATA	229142000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1008318
+SHUFFLE	COMPRESS_BYTE_COUNT	1008322
+SHUFFLE	COPY_MAP_DATA	9863000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	995869
+SHUFFLE	COMPRESS_BYTE_COUNT	995873
+SHUFFLE	COPY_MAP_DATA	332394000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1005242
+SHUFFLE	COMPRESS_BYTE_COUNT	1005246
+SHUFFLE	COPY_MAP_DATA	18059000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	949386
+SHUFFLE	COMPRESS_BYTE_COUNT	949390
+SHUFFLE	COPY_MAP_DATA	18581000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	907491
+SHUFFLE	COMPRESS_BYTE_COUNT	907495
+SHUFFLE	COPY_MAP_DATA	50360000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	969087
+SHUFFLE	COMPRESS_BYTE_COUNT	969091
+SHUFFLE	COPY_MAP_DATA	140764000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1034290
+SHUFFLE	COMPRESS_BYTE_COUNT	1034294
+SHUFFLE	COPY_MAP_DATA	282066000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1554290
+SHUFFLE	COMPRESS_BYTE_COUNT	1554294
+SHUFFLE	COPY_MAP_DATA	11927286000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	998388
+SHUFFLE	COMPRESS_BYTE_COUNT	998392
+SHUFFLE	COPY_MAP_DATA	17053000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1042121
+SHUFFLE	COMPRESS_BYTE_COUNT	1042125
+SHUFFLE	COPY_MAP_DATA	86768000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	980904
+SHUFFLE	COMPRESS_BYTE_COUNT	980908
+SHUFFLE	COPY_MAP_DATA	22403000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1096189
+SHUFFLE	COMPRESS_BYTE_COUNT	1096193
+SHUFFLE	COPY_MAP_DATA	48896000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	993946
+SHUFFLE	COMPRESS_BYTE_COUNT	993950
+SHUFFLE	COPY_MAP_DATA	33432000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	976239
+SHUFFLE	COMPRESS_BYTE_COUNT	976243
+SHUFFLE	COPY_MAP_DATA	91592000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1000985
+SHUFFLE	COMPRESS_BYTE_COUNT	1000989
+SHUFFLE	COPY_MAP_DATA	1394211000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1023084
+SHUFFLE	COMPRESS_BYTE_COUNT	1023088
+SHUFFLE	COPY_MAP_DATA	315899000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1000186
+SHUFFLE	COMPRESS_BYTE_COUNT	1000190
+SHUFFLE	COPY_MAP_DATA	14084000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	977930
+SHUFFLE	COMPRESS_BYTE_COUNT	977934
+SHUFFLE	COPY_MAP_DATA	10603000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	975029
+SHUFFLE	COMPRESS_BYTE_COUNT	975033
+SHUFFLE	COPY_MAP_DATA	25337000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	984386
+SHUFFLE	COMPRESS_BYTE_COUNT	984390
+SHUFFLE	COPY_MAP_DATA	37865000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1066976
+SHUFFLE	COMPRESS_BYTE_COUNT	1066980
+SHUFFLE	COPY_MAP_DATA	9423000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	945094
+SHUFFLE	COMPRESS_BYTE_COUNT	945098
+SHUFFLE	COPY_MAP_DATA	23877000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1003094
+SHUFFLE	COMPRESS_BYTE_COUNT	1003098
+SHUFFLE	COPY_MAP_DATA	77207000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	968283
+SHUFFLE	COMPRESS_BYTE_COUNT	968287
+SHUFFLE	COPY_MAP_DATA	23552000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1012170
+SHUFFLE	COMPRESS_BYTE_COUNT	1012174
+SHUFFLE	COPY_MAP_DATA	28246000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	938409
+SHUFFLE	COMPRESS_BYTE_COUNT	938413
+SHUFFLE	COPY_MAP_DATA	472971000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	977857
+SHUFFLE	COMPRESS_BYTE_COUNT	977861
+SHUFFLE	COPY_MAP_DATA	203568000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	956971
+SHUFFLE	COMPRESS_BYTE_COUNT	956975
+SHUFFLE	COPY_MAP_DATA	421742000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	948586
+SHUFFLE	COMPRESS_BYTE_COUNT	948590
+SHUFFLE	COPY_MAP_DATA	24698000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	963660
+SHUFFLE	COMPRESS_BYTE_COUNT	963664
+SHUFFLE	COPY_MAP_DATA	23052000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	958233
+SHUFFLE	COMPRESS_BYTE_COUNT	958237
+SHUFFLE	COPY_MAP_DATA	17012000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1001917
+SHUFFLE	COMPRESS_BYTE_COUNT	1001921
+SHUFFLE	COPY_MAP_DATA	53447000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	999608
+SHUFFLE	COMPRESS_BYTE_COUNT	999612
+SHUFFLE	COPY_MAP_DATA	401559000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	978628
+SHUFFLE	COMPRESS_BYTE_COUNT	978632
+SHUFFLE	COPY_MAP_DATA	18717000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	956923
+SHUFFLE	COMPRESS_BYTE_COUNT	956927
+SHUFFLE	COPY_MAP_DATA	240351000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1029239
+SHUFFLE	COMPRESS_BYTE_COUNT	1029243
+SHUFFLE	COPY_MAP_DATA	3338341000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	956554
+SHUFFLE	COMPRESS_BYTE_COUNT	956558
+SHUFFLE	COPY_MAP_DATA	16210000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	931138
+SHUFFLE	COMPRESS_BYTE_COUNT	931142
+SHUFFLE	COPY_MAP_DATA	15826000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	907877
+SHUFFLE	COMPRESS_BYTE_COUNT	907881
+SHUFFLE	COPY_MAP_DATA	18264000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	972147
+SHUFFLE	COMPRESS_BYTE_COUNT	972151
+SHUFFLE	COPY_MAP_DATA	90219000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	954044
+SHUFFLE	COMPRESS_BYTE_COUNT	954048
+SHUFFLE	COPY_MAP_DATA	16830000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1006167
+SHUFFLE	COMPRESS_BYTE_COUNT	1006171
+SHUFFLE	COPY_MAP_DATA	17360000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1128050
+SHUFFLE	COMPRESS_BYTE_COUNT	1128054
+SHUFFLE	COPY_MAP_DATA	724009000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	946652
+SHUFFLE	COMPRESS_BYTE_COUNT	946656
+SHUFFLE	COPY_MAP_DATA	289452000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1008056
+SHUFFLE	COMPRESS_BYTE_COUNT	1008060
+SHUFFLE	COPY_MAP_DATA	42272000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	907667
+SHUFFLE	COMPRESS_BYTE_COUNT	907671
+SHUFFLE	COPY_MAP_DATA	16120000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	936137
+SHUFFLE	COMPRESS_BYTE_COUNT	936141
+SHUFFLE	COPY_MAP_DATA	10607000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	949534
+SHUFFLE	COMPRESS_BYTE_COUNT	949538
+SHUFFLE	COPY_MAP_DATA	81914000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	938763
+SHUFFLE	COMPRESS_BYTE_COUNT	938767
+SHUFFLE	COPY_MAP_DATA	41348000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	962956
+SHUFFLE	COMPRESS_BYTE_COUNT	962960
+SHUFFLE	COPY_MAP_DATA	22294000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	895319
+SHUFFLE	COMPRESS_BYTE_COUNT	895323
+SHUFFLE	COPY_MAP_DATA	347516000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	936249
+SHUFFLE	COMPRESS_BYTE_COUNT	936253
+SHUFFLE	COPY_MAP_DATA	17735000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	955658
+SHUFFLE	COMPRESS_BYTE_COUNT	955662
+SHUFFLE	COPY_MAP_DATA	20785000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	988458
+SHUFFLE	COMPRESS_BYTE_COUNT	988462
+SHUFFLE	COPY_MAP_DATA	80426000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	921263
+SHUFFLE	COMPRESS_BYTE_COUNT	921267
+SHUFFLE	COPY_MAP_DATA	17736000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	911990
+SHUFFLE	COMPRESS_BYTE_COUNT	911994
+SHUFFLE	COPY_MAP_DATA	22423000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	896712
+SHUFFLE	COMPRESS_BYTE_COUNT	896716
+SHUFFLE	COPY_MAP_DATA	19237000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	943841
+SHUFFLE	COMPRESS_BYTE_COUNT	943845
+SHUFFLE	COPY_MAP_DATA	352663000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	960544
+SHUFFLE	COMPRESS_BYTE_COUNT	960548
+SHUFFLE	COPY_MAP_DATA	18884000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	879583
+SHUFFLE	COMPRESS_BYTE_COUNT	879587
+SHUFFLE	COPY_MAP_DATA	32476000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	861368
+SHUFFLE	COMPRESS_BYTE_COUNT	861372
+SHUFFLE	COPY_MAP_DATA	21643000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	894844
+SHUFFLE	COMPRESS_BYTE_COUNT	894848
+SHUFFLE	COPY_MAP_DATA	64117000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	892129
+SHUFFLE	COMPRESS_BYTE_COUNT	892133
+SHUFFLE	COPY_MAP_DATA	576085000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	944933
+SHUFFLE	COMPRESS_BYTE_COUNT	944937
+SHUFFLE	COPY_MAP_DATA	27413000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	874020
+SHUFFLE	COMPRESS_BYTE_COUNT	874024
+SHUFFLE	COPY_MAP_DATA	124629000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	887718
+SHUFFLE	COMPRESS_BYTE_COUNT	887722
+SHUFFLE	COPY_MAP_DATA	1547568000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	901483
+SHUFFLE	COMPRESS_BYTE_COUNT	901487
+SHUFFLE	COPY_MAP_DATA	129657000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	898862
+SHUFFLE	COMPRESS_BYTE_COUNT	898866
+SHUFFLE	COPY_MAP_DATA	179920000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	871996
+SHUFFLE	COMPRESS_BYTE_COUNT	872000
+SHUFFLE	COPY_MAP_DATA	18189000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	894964
+SHUFFLE	COMPRESS_BYTE_COUNT	894968
+SHUFFLE	COPY_MAP_DATA	3328330000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	901742
+SHUFFLE	COMPRESS_BYTE_COUNT	901746
+SHUFFLE	COPY_MAP_DATA	795477000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	959984
+SHUFFLE	COMPRESS_BYTE_COUNT	959988
+SHUFFLE	COPY_MAP_DATA	22411000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	914748
+SHUFFLE	COMPRESS_BYTE_COUNT	914752
+SHUFFLE	COPY_MAP_DATA	20522000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	893301
+SHUFFLE	COMPRESS_BYTE_COUNT	893305
+SHUFFLE	COPY_MAP_DATA	687633000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	879655
+SHUFFLE	COMPRESS_BYTE_COUNT	879659
+SHUFFLE	COPY_MAP_DATA	762395000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	905541
+SHUFFLE	COMPRESS_BYTE_COUNT	905545
+SHUFFLE	COPY_MAP_DATA	293385000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	853890
+SHUFFLE	COMPRESS_BYTE_COUNT	853894
+SHUFFLE	COPY_MAP_DATA	287800000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	908586
+SHUFFLE	COMPRESS_BYTE_COUNT	908590
+SHUFFLE	COPY_MAP_DATA	158498000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	847009
+SHUFFLE	COMPRESS_BYTE_COUNT	847013
+SHUFFLE	COPY_MAP_DATA	16387000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	857216
+SHUFFLE	COMPRESS_BYTE_COUNT	857220
+SHUFFLE	COPY_MAP_DATA	17157000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	813414
+SHUFFLE	COMPRESS_BYTE_COUNT	813418
+SHUFFLE	COPY_MAP_DATA	431799000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	832769
+SHUFFLE	COMPRESS_BYTE_COUNT	832773
+SHUFFLE	COPY_MAP_DATA	366657000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	855500
+SHUFFLE	COMPRESS_BYTE_COUNT	855504
+SHUFFLE	COPY_MAP_DATA	71077000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	948802
+SHUFFLE	COMPRESS_BYTE_COUNT	948806
+SHUFFLE	COPY_MAP_DATA	2340088000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	849092
+SHUFFLE	COMPRESS_BYTE_COUNT	849096
+SHUFFLE	COPY_MAP_DATA	17137000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	917864
+SHUFFLE	COMPRESS_BYTE_COUNT	917868
+SHUFFLE	COPY_MAP_DATA	28876000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	855800
+SHUFFLE	COMPRESS_BYTE_COUNT	855804
+SHUFFLE	COPY_MAP_DATA	1392793000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	822260
+SHUFFLE	COMPRESS_BYTE_COUNT	822264
+SHUFFLE	COPY_MAP_DATA	21849000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	854950
+SHUFFLE	COMPRESS_BYTE_COUNT	854954
+SHUFFLE	COPY_MAP_DATA	16132000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	859297
+SHUFFLE	COMPRESS_BYTE_COUNT	859301
+SHUFFLE	COPY_MAP_DATA	2142192000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1028230
+SHUFFLE	COMPRESS_BYTE_COUNT	1028234
+SHUFFLE	COPY_MAP_DATA	1314941000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	796235
+SHUFFLE	COMPRESS_BYTE_COUNT	796239
+SHUFFLE	COPY_MAP_DATA	13626000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	865043
+SHUFFLE	COMPRESS_BYTE_COUNT	865047
+SHUFFLE	COPY_MAP_DATA	46469000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	846515
+SHUFFLE	COMPRESS_BYTE_COUNT	846519
+SHUFFLE	COPY_MAP_DATA	156172000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	843463
+SHUFFLE	COMPRESS_BYTE_COUNT	843467
+SHUFFLE	COPY_MAP_DATA	1997029000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	700779
+SHUFFLE	COMPRESS_BYTE_COUNT	700783
+SHUFFLE	COPY_MAP_DATA	13425000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	839031
+SHUFFLE	COMPRESS_BYTE_COUNT	839035
+SHUFFLE	COPY_MAP_DATA	15801000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	844691
+SHUFFLE	COMPRESS_BYTE_COUNT	844695
+SHUFFLE	COPY_MAP_DATA	16258000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	794883
+SHUFFLE	COMPRESS_BYTE_COUNT	794887
+SHUFFLE	COPY_MAP_DATA	66432000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	903941
+SHUFFLE	COMPRESS_BYTE_COUNT	903945
+SHUFFLE	COPY_MAP_DATA	17090000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	871315
+SHUFFLE	COMPRESS_BYTE_COUNT	871319
+SHUFFLE	COPY_MAP_DATA	82953000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1044378
+SHUFFLE	COMPRESS_BYTE_COUNT	1044382
+SHUFFLE	COPY_MAP_DATA	33762000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	842904
+SHUFFLE	COMPRESS_BYTE_COUNT	842908
+SHUFFLE	COPY_MAP_DATA	229123000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	851799
+SHUFFLE	COMPRESS_BYTE_COUNT	851803
+SHUFFLE	COPY_MAP_DATA	41821000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	853357
+SHUFFLE	COMPRESS_BYTE_COUNT	853361
+SHUFFLE	COPY_MAP_DATA	4609736000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	876047
+SHUFFLE	COMPRESS_BYTE_COUNT	876051
+SHUFFLE	COPY_MAP_DATA	1179643000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1029343
+SHUFFLE	COMPRESS_BYTE_COUNT	1029347
+SHUFFLE	COPY_MAP_DATA	168743000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	809296
+SHUFFLE	COMPRESS_BYTE_COUNT	809300
+SHUFFLE	COPY_MAP_DATA	44664000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	798568
+SHUFFLE	COMPRESS_BYTE_COUNT	798572
+SHUFFLE	COPY_MAP_DATA	5649000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	848832
+SHUFFLE	COMPRESS_BYTE_COUNT	848836
+SHUFFLE	COPY_MAP_DATA	17213000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	849854
+SHUFFLE	COMPRESS_BYTE_COUNT	849858
+SHUFFLE	COPY_MAP_DATA	780830000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	769870
+SHUFFLE	COMPRESS_BYTE_COUNT	769874
+SHUFFLE	COPY_MAP_DATA	507956000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	912147
+SHUFFLE	COMPRESS_BYTE_COUNT	912151
+SHUFFLE	COPY_MAP_DATA	23635000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	994642
+SHUFFLE	COMPRESS_BYTE_COUNT	994646
+SHUFFLE	COPY_MAP_DATA	16589000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	928372
+SHUFFLE	COMPRESS_BYTE_COUNT	928376
+SHUFFLE	COPY_MAP_DATA	20181000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	787903
+SHUFFLE	COMPRESS_BYTE_COUNT	787907
+SHUFFLE	COPY_MAP_DATA	18810000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	800991
+SHUFFLE	COMPRESS_BYTE_COUNT	800995
+SHUFFLE	COPY_MAP_DATA	9569000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	864778
+SHUFFLE	COMPRESS_BYTE_COUNT	864782
+SHUFFLE	COPY_MAP_DATA	74971000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	821754
+SHUFFLE	COMPRESS_BYTE_COUNT	821758
+SHUFFLE	COPY_MAP_DATA	16311000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	817509
+SHUFFLE	COMPRESS_BYTE_COUNT	817513
+SHUFFLE	COPY_MAP_DATA	17839000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	849482
+SHUFFLE	COMPRESS_BYTE_COUNT	849486
+SHUFFLE	COPY_MAP_DATA	9634000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	804701
+SHUFFLE	COMPRESS_BYTE_COUNT	804705
+SHUFFLE	COPY_MAP_DATA	118163000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	870790
+SHUFFLE	COMPRESS_BYTE_COUNT	870794
+SHUFFLE	COPY_MAP_DATA	17092000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	803133
+SHUFFLE	COMPRESS_BYTE_COUNT	803137
+SHUFFLE	COPY_MAP_DATA	151040000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	818518
+SHUFFLE	COMPRESS_BYTE_COUNT	818522
+SHUFFLE	COPY_MAP_DATA	401571000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	885330
+SHUFFLE	COMPRESS_BYTE_COUNT	885334
+SHUFFLE	COPY_MAP_DATA	138192000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	822291
+SHUFFLE	COMPRESS_BYTE_COUNT	822295
+SHUFFLE	COPY_MAP_DATA	187705000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	958161
+SHUFFLE	COMPRESS_BYTE_COUNT	958165
+SHUFFLE	COPY_MAP_DATA	98223000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	765166
+SHUFFLE	COMPRESS_BYTE_COUNT	765170
+SHUFFLE	COPY_MAP_DATA	278086000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	876394
+SHUFFLE	COMPRESS_BYTE_COUNT	876398
+SHUFFLE	COPY_MAP_DATA	35381000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1048512
+SHUFFLE	COMPRESS_BYTE_COUNT	1048516
+SHUFFLE	COPY_MAP_DATA	525507000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	927147
+SHUFFLE	COMPRESS_BYTE_COUNT	927151
+SHUFFLE	COPY_MAP_DATA	245128000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	954831
+SHUFFLE	COMPRESS_BYTE_COUNT	954835
+SHUFFLE	COPY_MAP_DATA	555960000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1163501
+SHUFFLE	COMPRESS_BYTE_COUNT	1163505
+SHUFFLE	COPY_MAP_DATA	216177000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	782263
+SHUFFLE	COMPRESS_BYTE_COUNT	782267
+SHUFFLE	COPY_MAP_DATA	23708000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	868051
+SHUFFLE	COMPRESS_BYTE_COUNT	868055
+SHUFFLE	COPY_MAP_DATA	335803000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	775695
+SHUFFLE	COMPRESS_BYTE_COUNT	775699
+SHUFFLE	COPY_MAP_DATA	149542000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	792419
+SHUFFLE	COMPRESS_BYTE_COUNT	792423
+SHUFFLE	COPY_MAP_DATA	1389670000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	775298
+SHUFFLE	COMPRESS_BYTE_COUNT	775302
+SHUFFLE	COPY_MAP_DATA	40720000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	796168
+SHUFFLE	COMPRESS_BYTE_COUNT	796172
+SHUFFLE	COPY_MAP_DATA	16475000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	821068
+SHUFFLE	COMPRESS_BYTE_COUNT	821072
+SHUFFLE	COPY_MAP_DATA	439839000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	823651
+SHUFFLE	COMPRESS_BYTE_COUNT	823655
+SHUFFLE	COPY_MAP_DATA	11052000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	803882
+SHUFFLE	COMPRESS_BYTE_COUNT	803886
+SHUFFLE	COPY_MAP_DATA	713024000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	805852
+SHUFFLE	COMPRESS_BYTE_COUNT	805856
+SHUFFLE	COPY_MAP_DATA	17195000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	796948
+SHUFFLE	COMPRESS_BYTE_COUNT	796952
+SHUFFLE	COPY_MAP_DATA	2797072000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	855194
+SHUFFLE	COMPRESS_BYTE_COUNT	855198
+SHUFFLE	COPY_MAP_DATA	23809000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	940676
+SHUFFLE	COMPRESS_BYTE_COUNT	940680
+SHUFFLE	COPY_MAP_DATA	2595883000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	817263
+SHUFFLE	COMPRESS_BYTE_COUNT	817267
+SHUFFLE	COPY_MAP_DATA	155904000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	810401
+SHUFFLE	COMPRESS_BYTE_COUNT	810405
+SHUFFLE	COPY_MAP_DATA	3584360000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	809676
+SHUFFLE	COMPRESS_BYTE_COUNT	809680
+SHUFFLE	COPY_MAP_DATA	260436000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	899939
+SHUFFLE	COMPRESS_BYTE_COUNT	899943
+SHUFFLE	COPY_MAP_DATA	19319000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	839759
+SHUFFLE	COMPRESS_BYTE_COUNT	839763
+SHUFFLE	COPY_MAP_DATA	87271000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	812028
+SHUFFLE	COMPRESS_BYTE_COUNT	812032
+SHUFFLE	COPY_MAP_DATA	59362000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	799657
+SHUFFLE	COMPRESS_BYTE_COUNT	799661
+SHUFFLE	COPY_MAP_DATA	238619000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	880495
+SHUFFLE	COMPRESS_BYTE_COUNT	880499
+SHUFFLE	COPY_MAP_DATA	20919000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	904729
+SHUFFLE	COMPRESS_BYTE_COUNT	904733
+SHUFFLE	COPY_MAP_DATA	15055000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	870439
+SHUFFLE	COMPRESS_BYTE_COUNT	870443
+SHUFFLE	COPY_MAP_DATA	475991000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	770986
+SHUFFLE	COMPRESS_BYTE_COUNT	770990
+SHUFFLE	COPY_MAP_DATA	92342000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	815206
+SHUFFLE	COMPRESS_BYTE_COUNT	815210
+SHUFFLE	COPY_MAP_DATA	25484000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	802181
+SHUFFLE	COMPRESS_BYTE_COUNT	802185
+SHUFFLE	COPY_MAP_DATA	135777000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	839721
+SHUFFLE	COMPRESS_BYTE_COUNT	839725
+SHUFFLE	COPY_MAP_DATA	15625000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	898264
+SHUFFLE	COMPRESS_BYTE_COUNT	898268
+SHUFFLE	COPY_MAP_DATA	95189000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	820603
+SHUFFLE	COMPRESS_BYTE_COUNT	820607
+SHUFFLE	COPY_MAP_DATA	6563582000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1106301
+SHUFFLE	COMPRESS_BYTE_COUNT	1106305
+SHUFFLE	COPY_MAP_DATA	184199000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	728356
+SHUFFLE	COMPRESS_BYTE_COUNT	728360
+SHUFFLE	COPY_MAP_DATA	242160000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	841021
+SHUFFLE	COMPRESS_BYTE_COUNT	841025
+SHUFFLE	COPY_MAP_DATA	16209000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	767065
+SHUFFLE	COMPRESS_BYTE_COUNT	767069
+SHUFFLE	COPY_MAP_DATA	181634000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1229272
+SHUFFLE	COMPRESS_BYTE_COUNT	1229276
+SHUFFLE	COPY_MAP_DATA	87361000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	788770
+SHUFFLE	COMPRESS_BYTE_COUNT	788774
+SHUFFLE	COPY_MAP_DATA	308528000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	907308
+SHUFFLE	COMPRESS_BYTE_COUNT	907312
+SHUFFLE	COPY_MAP_DATA	68453000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	770986
+SHUFFLE	COMPRESS_BYTE_COUNT	770990
+SHUFFLE	COPY_MAP_DATA	546929000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	899467
+SHUFFLE	COMPRESS_BYTE_COUNT	899471
+SHUFFLE	COPY_MAP_DATA	1882585000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	740186
+SHUFFLE	COMPRESS_BYTE_COUNT	740190
+SHUFFLE	COPY_MAP_DATA	8071000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	831186
+SHUFFLE	COMPRESS_BYTE_COUNT	831190
+SHUFFLE	COPY_MAP_DATA	22597000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	594644
+SHUFFLE	COMPRESS_BYTE_COUNT	594648
+SHUFFLE	COPY_MAP_DATA	13424000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	766050
+SHUFFLE	COMPRESS_BYTE_COUNT	766054
+SHUFFLE	COPY_MAP_DATA	14848000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	905410
+SHUFFLE	COMPRESS_BYTE_COUNT	905414
+SHUFFLE	COPY_MAP_DATA	332565000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	722486
+SHUFFLE	COMPRESS_BYTE_COUNT	722490
+SHUFFLE	COPY_MAP_DATA	105206000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	866905
+SHUFFLE	COMPRESS_BYTE_COUNT	866909
+SHUFFLE	COPY_MAP_DATA	22719000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	844448
+SHUFFLE	COMPRESS_BYTE_COUNT	844452
+SHUFFLE	COPY_MAP_DATA	234282000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	836409
+SHUFFLE	COMPRESS_BYTE_COUNT	836413
+SHUFFLE	COPY_MAP_DATA	10791000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	819510
+SHUFFLE	COMPRESS_BYTE_COUNT	819514
+SHUFFLE	COPY_MAP_DATA	21219000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	956308
+SHUFFLE	COMPRESS_BYTE_COUNT	956312
+SHUFFLE	COPY_MAP_DATA	16412000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	743565
+SHUFFLE	COMPRESS_BYTE_COUNT	743569
+SHUFFLE	COPY_MAP_DATA	13355000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	810727
+SHUFFLE	COMPRESS_BYTE_COUNT	810731
+SHUFFLE	COPY_MAP_DATA	24611000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	691323
+SHUFFLE	COMPRESS_BYTE_COUNT	691327
+SHUFFLE	COPY_MAP_DATA	30724000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	787598
+SHUFFLE	COMPRESS_BYTE_COUNT	787602
+SHUFFLE	COPY_MAP_DATA	15253000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	895053
+SHUFFLE	COMPRESS_BYTE_COUNT	895057
+SHUFFLE	COPY_MAP_DATA	38871000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	733798
+SHUFFLE	COMPRESS_BYTE_COUNT	733802
+SHUFFLE	COPY_MAP_DATA	27409000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	981426
+SHUFFLE	COMPRESS_BYTE_COUNT	981430
+SHUFFLE	COPY_MAP_DATA	16294000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	826007
+SHUFFLE	COMPRESS_BYTE_COUNT	826011
+SHUFFLE	COPY_MAP_DATA	13683000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	970551
+SHUFFLE	COMPRESS_BYTE_COUNT	970555
+SHUFFLE	COPY_MAP_DATA	14038000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	883396
+SHUFFLE	COMPRESS_BYTE_COUNT	883400
+SHUFFLE	COPY_MAP_DATA	25627000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	540587
+SHUFFLE	COMPRESS_BYTE_COUNT	540591
+SHUFFLE	COPY_MAP_DATA	11448000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	790950
+SHUFFLE	COMPRESS_BYTE_COUNT	790954
+SHUFFLE	COPY_MAP_DATA	14559000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	101630933090
+MERGE	READ_WRITE	98248972090
+MERGE	READ_WRITE_COUNT	2
+MERGE	COMBINE	0
+MERGE	WRITE	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	17001214000
+SORT	READ_WRITE	16683052000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	147441256
+REDUCE	SETUP	367000
+REDUCE	SETUP_MEM	147441256
+REDUCE	CLEANUP	41000
+REDUCE	CLEANUP_MEM	133795864
+REDUCE	TOTAL_RUN	116026059000
+REDUCE	READ	10750416000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	98594895000
+REDUCE	WRITE	30122080000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	73818644
+REDUCE	VALUE_BYTE_COUNT	66746558
+REDUCE	REDUCE_MEM	133795864
+REDUCE	WRITE	686934000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	659391464090
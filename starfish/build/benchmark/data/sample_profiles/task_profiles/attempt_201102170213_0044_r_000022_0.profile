@@ -0,0 +1,1333 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1904144
+SHUFFLE	COMPRESS_BYTE_COUNT	1904148
+SHUFFLE	COPY_MAP_DATA	1087965000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1823188
+SHUFFLE	COMPRESS_BYTE_COUNT	1823192
+SHUFFLE	COPY_MAP_DATA	112678000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1663400
+SHUFFLE	COMPRESS_BYTE_COUNT	1663404
+SHUFFLE	COPY_MAP_DATA	31028000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1907806
+SHUFFLE	COMPRESS_BYTE_COUNT	1907810
+SHUFFLE	COPY_MAP_DATA	53104000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1876142
+SHUFFLE	COMPRESS_BYTE_COUNT	1876146
+SHUFFLE	COPY_MAP_DATA	36267000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1857545
+SHUFFLE	COMPRESS_BYTE_COUNT	1857549
+SHUFFLE	COPY_MAP_DATA	27158000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1750020
+SHUFFLE	COMPRESS_BYTE_COUNT	1750024
+SHUFFLE	COPY_MAP_DATA	71482000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1897806
+SHUFFLE	COMPRESS_BYTE_COUNT	1897810
+SHUFFLE	COPY_MAP_DATA	48251000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1947598
+SHUFFLE	COMPRESS_BYTE_COUNT	1947602
+SHUFFLE	COPY_MAP_DATA	26701000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1933106
+SHUFFLE	COMPRESS_BYTE_COUNT	1933110
+SHUFFLE	COPY_MAP_DATA	28042000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1759580
+SHUFFLE	COMPRESS_BYTE_COUNT	1759584
+SHUFFLE	COPY_MAP_DATA	99670000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1832671
+SHUFFLE	COMPRESS_BYTE_COUNT	1832675
+SHUFFLE	COPY_MAP_DATA	26960000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1874423
+SHUFFLE	COMPRESS_BYTE_COUNT	1874427
+SHUFFLE	COPY_MAP_DATA	98719000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1568100
+SHUFFLE	COMPRESS_BYTE_COUNT	1568104
+SHUFFLE	COPY_MAP_DATA	9213000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1732582
+SHUFFLE	COMPRESS_BYTE_COUNT	1732586
+SHUFFLE	COPY_MAP_DATA	57709000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1924986
+SHUFFLE	COMPRESS_BYTE_COUNT	1924990
+SHUFFLE	COPY_MAP_DATA	72057000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1831522
+SHUFFLE	COMPRESS_BYTE_COUNT	1831526
+SHUFFLE	COPY_MAP_DATA	57548000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1946055
+SHUFFLE	COMPRESS_BYTE_COUNT	1946059
+SHUFFLE	COPY_MAP_DATA	110370000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1896870
+SHUFFLE	COMPRESS_BYTE_COUNT	1896874
+SHUFFLE	COPY_MAP_DATA	21913000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1885140
+SHUFFLE	COMPRESS_BYTE_COUNT	1885144
+SHUFFLE	COPY_MAP_DATA	83479000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1865155
+SHUFFLE	COMPRESS_BYTE_COUNT	1865159
+SHUFFLE	COPY_MAP_DATA	57823000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1825959
+SHUFFLE	COMPRESS_BYTE_COUNT	1825963
+SHUFFLE	COPY_MAP_DATA	53459000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2046742
+SHUFFLE	COMPRESS_BYTE_COUNT	2046746
+SHUFFLE	COPY_MAP_DATA	88371000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1847827
+SHUFFLE	COMPRESS_BYTE_COUNT	1847831
+SHUFFLE	COPY_MAP_DATA	2947430000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2008905
+SHUFFLE	COMPRESS_BYTE_COUNT	2008909
+SHUFFLE	COPY_MAP_DATA	24932000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1723810
+SHUFFLE	COMPRESS_BYTE_COUNT	1723814
+SHUFFLE	COPY_MAP_DATA	9468000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1870131
+SHUFFLE	COMPRESS_BYTE_COUNT	1870135
+SHUFFLE	COPY_MAP_DATA	257479000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1943916
+SHUFFLE	COMPRESS_BYTE_COUNT	1943920
+SHUFFLE	COPY_MAP_DATA	216870000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1898161
+SHUFFLE	COMPRESS_BYTE_COUNT	1898165
+SHUFFLE	COPY_MAP_DATA	812656000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1939473
+SHUFFLE	COMPRESS_BYTE_COUNT	1939477
+SHUFFLE	COPY_MAP_DATA	3296204000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1888741
+SHUFFLE	COMPRESS_BYTE_COUNT	1888745
+SHUFFLE	COPY_MAP_DATA	6951762000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1774647
+SHUFFLE	COMPRESS_BYTE_COUNT	1774651
+SHUFFLE	COPY_MAP_DATA	496675000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1811871
+SHUFFLE	COMPRESS_BYTE_COUNT	1811875
+SHUFFLE	COPY_MAP_DATA	610461000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1945992
+SHUFFLE	COMPRESS_BYTE_COUNT	1945996
+SHUFFLE	COPY_MAP_DATA	310713000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1675251
+SHUFFLE	COMPRESS_BYTE_COUNT	1675255
+SHUFFLE	COPY_MAP_DATA	52517000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1680080
+SHUFFLE	COMPRESS_BYTE_COUNT	1680084
+SHUFFLE	COPY_MAP_DATA	27070000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1703945
+SHUFFLE	COMPRESS_BYTE_COUNT	1703949
+SHUFFLE	COPY_MAP_DATA	120743000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1843168
+SHUFFLE	COMPRESS_BYTE_COUNT	1843172
+SHUFFLE	COPY_MAP_DATA	67078000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1576766
+SHUFFLE	COMPRESS_BYTE_COUNT	1576770
+SHUFFLE	COPY_MAP_DATA	209315000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1814708
+SHUFFLE	COMPRESS_BYTE_COUNT	1814712
+SHUFFLE	COPY_MAP_DATA	28017000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1867726
+SHUFFLE	COMPRESS_BYTE_COUNT	1867730
+SHUFFLE	COPY_MAP_DATA	322755000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1728830
+SHUFFLE	COMPRESS_BYTE_COUNT	1728834
+SHUFFLE	COPY_MAP_DATA	104927000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1721736
+SHUFFLE	COMPRESS_BYTE_COUNT	1721740
+SHUFFLE	COPY_MAP_DATA	1511194000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1875816
+SHUFFLE	COMPRESS_BYTE_COUNT	1875820
+SHUFFLE	COPY_MAP_DATA	28852000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1770992
+SHUFFLE	COMPRESS_BYTE_COUNT	1770996
+SHUFFLE	COPY_MAP_DATA	36227000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1807053
+SHUFFLE	COMPRESS_BYTE_COUNT	1807057
+SHUFFLE	COPY_MAP_DATA	10445000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1586509
+SHUFFLE	COMPRESS_BYTE_COUNT	1586513
+SHUFFLE	COPY_MAP_DATA	29102000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1737229
+SHUFFLE	COMPRESS_BYTE_COUNT	1737233
+SHUFFLE	COPY_MAP_DATA	373184000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1823262
+SHUFFLE	COMPRESS_BYTE_COUNT	1823266
+SHUFFLE	COPY_MAP_DATA	7040470000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1507043
+SHUFFLE	COMPRESS_BYTE_COUNT	1507047
+SHUFFLE	COPY_MAP_DATA	43457000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1713268
+SHUFFLE	COMPRESS_BYTE_COUNT	1713272
+SHUFFLE	COPY_MAP_DATA	157002000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1725786
+SHUFFLE	COMPRESS_BYTE_COUNT	1725790
+SHUFFLE	COPY_MAP_DATA	275727000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1567446
+SHUFFLE	COMPRESS_BYTE_COUNT	1567450
+SHUFFLE	COPY_MAP_DATA	95905000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1632440
+SHUFFLE	COMPRESS_BYTE_COUNT	1632444
+SHUFFLE	COPY_MAP_DATA	24069000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1611638
+SHUFFLE	COMPRESS_BYTE_COUNT	1611642
+SHUFFLE	COPY_MAP_DATA	26370000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1789731
+SHUFFLE	COMPRESS_BYTE_COUNT	1789735
+SHUFFLE	COPY_MAP_DATA	252842000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1769112
+SHUFFLE	COMPRESS_BYTE_COUNT	1769116
+SHUFFLE	COPY_MAP_DATA	31423000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1705696
+SHUFFLE	COMPRESS_BYTE_COUNT	1705700
+SHUFFLE	COPY_MAP_DATA	31333000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1844682
+SHUFFLE	COMPRESS_BYTE_COUNT	1844686
+SHUFFLE	COPY_MAP_DATA	40498000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1618373
+SHUFFLE	COMPRESS_BYTE_COUNT	1618377
+SHUFFLE	COPY_MAP_DATA	4864105000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1612937
+SHUFFLE	COMPRESS_BYTE_COUNT	1612941
+SHUFFLE	COPY_MAP_DATA	22453000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1488515
+SHUFFLE	COMPRESS_BYTE_COUNT	1488519
+SHUFFLE	COPY_MAP_DATA	64401000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1517712
+SHUFFLE	COMPRESS_BYTE_COUNT	1517716
+SHUFFLE	COPY_MAP_DATA	30616000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1518789
+SHUFFLE	COMPRESS_BYTE_COUNT	1518793
+SHUFFLE	COPY_MAP_DATA	67741000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1956789
+SHUFFLE	COMPRESS_BYTE_COUNT	1956793
+SHUFFLE	COPY_MAP_DATA	25386000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1571416
+SHUFFLE	COMPRESS_BYTE_COUNT	1571420
+SHUFFLE	COPY_MAP_DATA	114676000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1581445
+SHUFFLE	COMPRESS_BYTE_COUNT	1581449
+SHUFFLE	COPY_MAP_DATA	114335000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1545897
+SHUFFLE	COMPRESS_BYTE_COUNT	1545901
+SHUFFLE	COPY_MAP_DATA	317849000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1551200
+SHUFFLE	COMPRESS_BYTE_COUNT	1551204
+SHUFFLE	COPY_MAP_DATA	88627000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1697997
+SHUFFLE	COMPRESS_BYTE_COUNT	1698001
+SHUFFLE	COPY_MAP_DATA	24501000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1795760
+SHUFFLE	COMPRESS_BYTE_COUNT	1795764
+SHUFFLE	COPY_MAP_DATA	443515000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1533860
+SHUFFLE	COMPRESS_BYTE_COUNT	1533864
+SHUFFLE	COPY_MAP_DATA	21320000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1582259
+SHUFFLE	COMPRESS_BYTE_COUNT	1582263
+SHUFFLE	COPY_MAP_DATA	40754000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1682508
+SHUFFLE	COMPRESS_BYTE_COUNT	1682512
+SHUFFLE	COPY_MAP_DATA	10945907000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1465111
+SHUFFLE	COMPRESS_BYTE_COUNT	1465115
+SHUFFLE	COPY_MAP_DATA	66218000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1604155
+SHUFFLE	COMPRESS_BYTE_COUNT	1604159
+SHUFFLE	COPY_MAP_DATA	40874000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1730974
+SHUFFLE	COMPRESS_BYTE_COUNT	1730978
+SHUFFLE	COPY_MAP_DATA	84016000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1715813
+SHUFFLE	COMPRESS_BYTE_COUNT	1715817
+SHUFFLE	COPY_MAP_DATA	366957000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1607380
+SHUFFLE	COMPRESS_BYTE_COUNT	1607384
+SHUFFLE	COPY_MAP_DATA	63818000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1594509
+SHUFFLE	COMPRESS_BYTE_COUNT	1594513
+SHUFFLE	COPY_MAP_DATA	145420000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1620670
+SHUFFLE	COMPRESS_BYTE_COUNT	1620674
+SHUFFLE	COPY_MAP_DATA	13542000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1611468
+SHUFFLE	COMPRESS_BYTE_COUNT	1611472
+SHUFFLE	COPY_MAP_DATA	3219552000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1700343
+SHUFFLE	COMPRESS_BYTE_COUNT	1700347
+SHUFFLE	COPY_MAP_DATA	226503000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1488967
+SHUFFLE	COMPRESS_BYTE_COUNT	1488971
+SHUFFLE	COPY_MAP_DATA	203117000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1674461
+SHUFFLE	COMPRESS_BYTE_COUNT	1674465
+SHUFFLE	COPY_MAP_DATA	116494000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1507098
+SHUFFLE	COMPRESS_BYTE_COUNT	1507102
+SHUFFLE	COPY_MAP_DATA	37937000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1532519
+SHUFFLE	COMPRESS_BYTE_COUNT	1532523
+SHUFFLE	COPY_MAP_DATA	3840450000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1420504
+SHUFFLE	COMPRESS_BYTE_COUNT	1420508
+SHUFFLE	COPY_MAP_DATA	3668628000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1706083
+SHUFFLE	COMPRESS_BYTE_COUNT	1706087
+SHUFFLE	COPY_MAP_DATA	4565268000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	757507
+SHUFFLE	COMPRESS_BYTE_COUNT	757511
+SHUFFLE	COPY_MAP_DATA	35017000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1551785
+SHUFFLE	COMPRESS_BYTE_COUNT	1551789
+SHUFFLE	COPY_MAP_DATA	5404099000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	865133
+SHUFFLE	COMPRESS_BYTE_COUNT	865137
+SHUFFLE	COPY_MAP_DATA	43842000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	798269
+SHUFFLE	COMPRESS_BYTE_COUNT	798273
+SHUFFLE	COPY_MAP_DATA	18492000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	810595
+SHUFFLE	COMPRESS_BYTE_COUNT	810599
+SHUFFLE	COPY_MAP_DATA	239634000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1614232
+SHUFFLE	COMPRESS_BYTE_COUNT	1614236
+SHUFFLE	COPY_MAP_DATA	21616000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	925815
+SHUFFLE	COMPRESS_BYTE_COUNT	925819
+SHUFFLE	COPY_MAP_DATA	293390000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1756904
+SHUFFLE	COMPRESS_BYTE_COUNT	1756908
+SHUFFLE	COPY_MAP_DATA	32551000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1395444
+SHUFFLE	COMPRESS_BYTE_COUNT	1395448
+SHUFFLE	COPY_MAP_DATA	390760000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	950747
+SHUFFLE	COMPRESS_BYTE_COUNT	950751
+SHUFFLE	COPY_MAP_DATA	14079000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1458308
+SHUFFLE	COMPRESS_BYTE_COUNT	1458312
+SHUFFLE	COPY_MAP_DATA	227723000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1436723
+SHUFFLE	COMPRESS_BYTE_COUNT	1436727
+SHUFFLE	COPY_MAP_DATA	403920000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	981565
+SHUFFLE	COMPRESS_BYTE_COUNT	981569
+SHUFFLE	COPY_MAP_DATA	718644000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1677765
+SHUFFLE	COMPRESS_BYTE_COUNT	1677769
+SHUFFLE	COPY_MAP_DATA	75251000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1726913
+SHUFFLE	COMPRESS_BYTE_COUNT	1726917
+SHUFFLE	COPY_MAP_DATA	333433000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1743441
+SHUFFLE	COMPRESS_BYTE_COUNT	1743445
+SHUFFLE	COPY_MAP_DATA	33972000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1642919
+SHUFFLE	COMPRESS_BYTE_COUNT	1642923
+SHUFFLE	COPY_MAP_DATA	376238000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1653292
+SHUFFLE	COMPRESS_BYTE_COUNT	1653296
+SHUFFLE	COPY_MAP_DATA	78813000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1582247
+SHUFFLE	COMPRESS_BYTE_COUNT	1582251
+SHUFFLE	COPY_MAP_DATA	47460000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	923804
+SHUFFLE	COMPRESS_BYTE_COUNT	923808
+SHUFFLE	COPY_MAP_DATA	19018000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1034080
+SHUFFLE	COMPRESS_BYTE_COUNT	1034084
+SHUFFLE	COPY_MAP_DATA	14917000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1504969
+SHUFFLE	COMPRESS_BYTE_COUNT	1504973
+SHUFFLE	COPY_MAP_DATA	224050000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	913520
+SHUFFLE	COMPRESS_BYTE_COUNT	913524
+SHUFFLE	COPY_MAP_DATA	16466000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1544901
+SHUFFLE	COMPRESS_BYTE_COUNT	1544905
+SHUFFLE	COPY_MAP_DATA	803269000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	961338
+SHUFFLE	COMPRESS_BYTE_COUNT	961342
+SHUFFLE	COPY_MAP_DATA	121511000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1558258
+SHUFFLE	COMPRESS_BYTE_COUNT	1558262
+SHUFFLE	COPY_MAP_DATA	22309000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	935009
+SHUFFLE	COMPRESS_BYTE_COUNT	935013
+SHUFFLE	COPY_MAP_DATA	2852129000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	995310
+SHUFFLE	COMPRESS_BYTE_COUNT	995314
+SHUFFLE	COPY_MAP_DATA	158188000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1639408
+SHUFFLE	COMPRESS_BYTE_COUNT	1639412
+SHUFFLE	COPY_MAP_DATA	181423000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1643896
+SHUFFLE	COMPRESS_BYTE_COUNT	1643900
+SHUFFLE	COPY_MAP_DATA	160287000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1625116
+SHUFFLE	COMPRESS_BYTE_COUNT	1625120
+SHUFFLE	COPY_MAP_DATA	646234000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	957862
+SHUFFLE	COMPRESS_BYTE_COUNT	957866
+SHUFFLE	COPY_MAP_DATA	18493000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	941638
+SHUFFLE	COMPRESS_BYTE_COUNT	941642
+SHUFFLE	COPY_MAP_DATA	28315000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	948137
+SHUFFLE	COMPRESS_BYTE_COUNT	948141
+SHUFFLE	COPY_MAP_DATA	117128000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	983350
+SHUFFLE	COMPRESS_BYTE_COUNT	983354
+SHUFFLE	COPY_MAP_DATA	37621000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	797997
+SHUFFLE	COMPRESS_BYTE_COUNT	798001
+SHUFFLE	COPY_MAP_DATA	30027000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	995731
+SHUFFLE	COMPRESS_BYTE_COUNT	995735
+SHUFFLE	COPY_MAP_DATA	115858000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	970896
+SHUFFLE	COMPRESS_BYTE_COUNT	970900
+SHUFFLE	COPY_MAP_DATA	71293000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	917809
+SHUFFLE	COMPRESS_BYTE_COUNT	917813
+SHUFFLE	COPY_MAP_DATA	26704000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	926717
+SHUFFLE	COMPRESS_BYTE_COUNT	926721
+SHUFFLE	COPY_MAP_DATA	16662000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	930020
+SHUFFLE	COMPRESS_BYTE_COUNT	930024
+SHUFFLE	COPY_MAP_DATA	25327000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	947708
+SHUFFLE	COMPRESS_BYTE_COUNT	947712
+SHUFFLE	COPY_MAP_DATA	90618000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	887670
+SHUFFLE	COMPRESS_BYTE_COUNT	887674
+SHUFFLE	COPY_MAP_DATA	493523000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	957910
+SHUFFLE	COMPRESS_BYTE_COUNT	957914
+SHUFFLE	COPY_MAP_DATA	230798000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	950326
+SHUFFLE	COMPRESS_BYTE_COUNT	950330
+SHUFFLE	COPY_MAP_DATA	251956000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	948788
+SHUFFLE	COMPRESS_BYTE_COUNT	948792
+SHUFFLE	COPY_MAP_DATA	271987000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1725706
+SHUFFLE	COMPRESS_BYTE_COUNT	1725710
+SHUFFLE	COPY_MAP_DATA	13048716000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	983372
+SHUFFLE	COMPRESS_BYTE_COUNT	983376
+SHUFFLE	COPY_MAP_DATA	27816000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	984579
+SHUFFLE	COMPRESS_BYTE_COUNT	984583
+SHUFFLE	COPY_MAP_DATA	18895000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	888181
+SHUFFLE	COMPRESS_BYTE_COUNT	888185
+SHUFFLE	COPY_MAP_DATA	19911000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	947482
+SHUFFLE	COMPRESS_BYTE_COUNT	947486
+SHUFFLE	COPY_MAP_DATA	10083000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	959339
+SHUFFLE	COMPRESS_BYTE_COUNT	959343
+SHUFFLE	COPY_MAP_DATA	18231000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	939955
+SHUFFLE	COMPRESS_BYTE_COUNT	939959
+SHUFFLE	COPY_MAP_DATA	21334000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	959671
+SHUFFLE	COMPRESS_BYTE_COUNT	959675
+SHUFFLE	COPY_MAP_DATA	243816000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	944086
+SHUFFLE	COMPRESS_BYTE_COUNT	944090
+SHUFFLE	COPY_MAP_DATA	4164077000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1051013
+SHUFFLE	COMPRESS_BYTE_COUNT	1051017
+SHUFFLE	COPY_MAP_DATA	240941000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	942287
+SHUFFLE	COMPRESS_BYTE_COUNT	942291
+SHUFFLE	COPY_MAP_DATA	18164000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	926664
+SHUFFLE	COMPRESS_BYTE_COUNT	926668
+SHUFFLE	COPY_MAP_DATA	39407000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1038011
+SHUFFLE	COMPRESS_BYTE_COUNT	1038015
+SHUFFLE	COPY_MAP_DATA	366454000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	954981
+SHUFFLE	COMPRESS_BYTE_COUNT	954985
+SHUFFLE	COPY_MAP_DATA	104560000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	924657
+SHUFFLE	COMPRESS_BYTE_COUNT	924661
+SHUFFLE	COPY_MAP_DATA	186205000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	958459
+SHUFFLE	COMPRESS_BYTE_COUNT	958463
+SHUFFLE	COPY_MAP_DATA	76559000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	949736
+SHUFFLE	COMPRESS_BYTE_COUNT	949740
+SHUFFLE	COPY_MAP_DATA	335773000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	896899
+SHUFFLE	COMPRESS_BYTE_COUNT	896903
+SHUFFLE	COPY_MAP_DATA	130424000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	973506
+SHUFFLE	COMPRESS_BYTE_COUNT	973510
+SHUFFLE	COPY_MAP_DATA	36195000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	899685
+SHUFFLE	COMPRESS_BYTE_COUNT	899689
+SHUFFLE	COPY_MAP_DATA	139901000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	873911
+SHUFFLE	COMPRESS_BYTE_COUNT	873915
+SHUFFLE	COPY_MAP_DATA	20339000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	965342
+SHUFFLE	COMPRESS_BYTE_COUNT	965346
+SHUFFLE	COPY_MAP_DATA	2782597000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	941891
+SHUFFLE	COMPRESS_BYTE_COUNT	941895
+SHUFFLE	COPY_MAP_DATA	15661000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	916170
+SHUFFLE	COMPRESS_BYTE_COUNT	916174
+SHUFFLE	COPY_MAP_DATA	31744000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	917685
+SHUFFLE	COMPRESS_BYTE_COUNT	917689
+SHUFFLE	COPY_MAP_DATA	210567000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	928988
+SHUFFLE	COMPRESS_BYTE_COUNT	928992
+SHUFFLE	COPY_MAP_DATA	192587000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	923298
+SHUFFLE	COMPRESS_BYTE_COUNT	923302
+SHUFFLE	COPY_MAP_DATA	167679000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	945398
+SHUFFLE	COMPRESS_BYTE_COUNT	945402
+SHUFFLE	COPY_MAP_DATA	16362000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	870501
+SHUFFLE	COMPRESS_BYTE_COUNT	870505
+SHUFFLE	COPY_MAP_DATA	41411000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	913680
+SHUFFLE	COMPRESS_BYTE_COUNT	913684
+SHUFFLE	COPY_MAP_DATA	87387000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	938291
+SHUFFLE	COMPRESS_BYTE_COUNT	938295
+SHUFFLE	COPY_MAP_DATA	17022000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	930420
+SHUFFLE	COMPRESS_BYTE_COUNT	930424
+SHUFFLE	COPY_MAP_DATA	312828000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	938740
+SHUFFLE	COMPRESS_BYTE_COUNT	938744
+SHUFFLE	COPY_MAP_DATA	222433000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	980652
+SHUFFLE	COMPRESS_BYTE_COUNT	980656
+SHUFFLE	COPY_MAP_DATA	17173000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	862683
+SHUFFLE	COMPRESS_BYTE_COUNT	862687
+SHUFFLE	COPY_MAP_DATA	29855000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	937962
+SHUFFLE	COMPRESS_BYTE_COUNT	937966
+SHUFFLE	COPY_MAP_DATA	128273000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	922870
+SHUFFLE	COMPRESS_BYTE_COUNT	922874
+SHUFFLE	COPY_MAP_DATA	370294000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	918473
+SHUFFLE	COMPRESS_BYTE_COUNT	918477
+SHUFFLE	COPY_MAP_DATA	246613000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	874710
+SHUFFLE	COMPRESS_BYTE_COUNT	874714
+SHUFFLE	COPY_MAP_DATA	208639000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	909375
+SHUFFLE	COMPRESS_BYTE_COUNT	909379
+SHUFFLE	COPY_MAP_DATA	659923000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	977482
+SHUFFLE	COMPRESS_BYTE_COUNT	977486
+SHUFFLE	COPY_MAP_DATA	19948000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	899939
+SHUFFLE	COMPRESS_BYTE_COUNT	899943
+SHUFFLE	COPY_MAP_DATA	21329000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	940474
+SHUFFLE	COMPRESS_BYTE_COUNT	940478
+SHUFFLE	COPY_MAP_DATA	16500000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	888582
+SHUFFLE	COMPRESS_BYTE_COUNT	888586
+SHUFFLE	COPY_MAP_DATA	233772000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	891050
+SHUFFLE	COMPRESS_BYTE_COUNT	891054
+SHUFFLE	COPY_MAP_DATA	167614000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	907094
+SHUFFLE	COMPRESS_BYTE_COUNT	907098
+SHUFFLE	COPY_MAP_DATA	18362000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	863460
+SHUFFLE	COMPRESS_BYTE_COUNT	863464
+SHUFFLE	COPY_MAP_DATA	9507000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	869124
+SHUFFLE	COMPRESS_BYTE_COUNT	869128
+SHUFFLE	COPY_MAP_DATA	565735000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	921702
+SHUFFLE	COMPRESS_BYTE_COUNT	921706
+SHUFFLE	COPY_MAP_DATA	496148000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	926047
+SHUFFLE	COMPRESS_BYTE_COUNT	926051
+SHUFFLE	COPY_MAP_DATA	21327000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	853436
+SHUFFLE	COMPRESS_BYTE_COUNT	853440
+SHUFFLE	COPY_MAP_DATA	16612000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	870478
+SHUFFLE	COMPRESS_BYTE_COUNT	870482
+SHUFFLE	COPY_MAP_DATA	260495000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	925244
+SHUFFLE	COMPRESS_BYTE_COUNT	925248
+SHUFFLE	COPY_MAP_DATA	87269000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	957099
+SHUFFLE	COMPRESS_BYTE_COUNT	957103
+SHUFFLE	COPY_MAP_DATA	18799000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	847412
+SHUFFLE	COMPRESS_BYTE_COUNT	847416
+SHUFFLE	COPY_MAP_DATA	11663000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	838283
+SHUFFLE	COMPRESS_BYTE_COUNT	838287
+SHUFFLE	COPY_MAP_DATA	17944000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	833446
+SHUFFLE	COMPRESS_BYTE_COUNT	833450
+SHUFFLE	COPY_MAP_DATA	18535000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	858855
+SHUFFLE	COMPRESS_BYTE_COUNT	858859
+SHUFFLE	COPY_MAP_DATA	845573000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	866753
+SHUFFLE	COMPRESS_BYTE_COUNT	866757
+SHUFFLE	COPY_MAP_DATA	252271000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	909891
+SHUFFLE	COMPRESS_BYTE_COUNT	909895
+SHUFFLE	COPY_MAP_DATA	193321000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	886071
+SHUFFLE	COMPRESS_BYTE_COUNT	886075
+SHUFFLE	COPY_MAP_DATA	17558000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	872272
+SHUFFLE	COMPRESS_BYTE_COUNT	872276
+SHUFFLE	COPY_MAP_DATA	628361000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	830735
+SHUFFLE	COMPRESS_BYTE_COUNT	830739
+SHUFFLE	COPY_MAP_DATA	66808000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	878267
+SHUFFLE	COMPRESS_BYTE_COUNT	878271
+SHUFFLE	COPY_MAP_DATA	1176075000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	864305
+SHUFFLE	COMPRESS_BYTE_COUNT	864309
+SHUFFLE	COPY_MAP_DATA	14326000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	859423
+SHUFFLE	COMPRESS_BYTE_COUNT	859427
+SHUFFLE	COPY_MAP_DATA	1406300000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	921870
+SHUFFLE	COMPRESS_BYTE_COUNT	921874
+SHUFFLE	COPY_MAP_DATA	302437000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	825346
+SHUFFLE	COMPRESS_BYTE_COUNT	825350
+SHUFFLE	COPY_MAP_DATA	486111000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	843471
+SHUFFLE	COMPRESS_BYTE_COUNT	843475
+SHUFFLE	COPY_MAP_DATA	242780000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	857480
+SHUFFLE	COMPRESS_BYTE_COUNT	857484
+SHUFFLE	COPY_MAP_DATA	1672484000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	820839
+SHUFFLE	COMPRESS_BYTE_COUNT	820843
+SHUFFLE	COPY_MAP_DATA	160085000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	900442
+SHUFFLE	COMPRESS_BYTE_COUNT	900446
+SHUFFLE	COPY_MAP_DATA	17766000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	877894
+SHUFFLE	COMPRESS_BYTE_COUNT	877898
+SHUFFLE	COPY_MAP_DATA	42466000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	867863
+SHUFFLE	COMPRESS_BYTE_COUNT	867867
+SHUFFLE	COPY_MAP_DATA	159516000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	845750
+SHUFFLE	COMPRESS_BYTE_COUNT	845754
+SHUFFLE	COPY_MAP_DATA	21216000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	780092
+SHUFFLE	COMPRESS_BYTE_COUNT	780096
+SHUFFLE	COPY_MAP_DATA	229980000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	762754
+SHUFFLE	COMPRESS_BYTE_COUNT	762758
+SHUFFLE	COPY_MAP_DATA	85578000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	815830
+SHUFFLE	COMPRESS_BYTE_COUNT	815834
+SHUFFLE	COPY_MAP_DATA	407348000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	787888
+SHUFFLE	COMPRESS_BYTE_COUNT	787892
+SHUFFLE	COPY_MAP_DATA	44836000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	796391
+SHUFFLE	COMPRESS_BYTE_COUNT	796395
+SHUFFLE	COPY_MAP_DATA	265001000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	841393
+SHUFFLE	COMPRESS_BYTE_COUNT	841397
+SHUFFLE	COPY_MAP_DATA	17742000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	891167
+SHUFFLE	COMPRESS_BYTE_COUNT	891171
+SHUFFLE	COPY_MAP_DATA	201205000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	817740
+SHUFFLE	COMPRESS_BYTE_COUNT	817744
+SHUFFLE	COPY_MAP_DATA	284226000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	826646
+SHUFFLE	COMPRESS_BYTE_COUNT	826650
+SHUFFLE	COPY_MAP_DATA	1827351000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	777897
+SHUFFLE	COMPRESS_BYTE_COUNT	777901
+SHUFFLE	COPY_MAP_DATA	18769000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	934793
+SHUFFLE	COMPRESS_BYTE_COUNT	934797
+SHUFFLE	COPY_MAP_DATA	9645000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	840998
+SHUFFLE	COMPRESS_BYTE_COUNT	841002
+SHUFFLE	COPY_MAP_DATA	19585000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	814033
+SHUFFLE	COMPRESS_BYTE_COUNT	814037
+SHUFFLE	COPY_MAP_DATA	8175000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	772640
+SHUFFLE	COMPRESS_BYTE_COUNT	772644
+SHUFFLE	COPY_MAP_DATA	36746000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	862989
+SHUFFLE	COMPRESS_BYTE_COUNT	862993
+SHUFFLE	COPY_MAP_DATA	23354000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	807285
+SHUFFLE	COMPRESS_BYTE_COUNT	807289
+SHUFFLE	COPY_MAP_DATA	122999000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	800589
+SHUFFLE	COMPRESS_BYTE_COUNT	800593
+SHUFFLE	COPY_MAP_DATA	370237000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	786083
+SHUFFLE	COMPRESS_BYTE_COUNT	786087
+SHUFFLE	COPY_MAP_DATA	68976000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	760743
+SHUFFLE	COMPRESS_BYTE_COUNT	760747
+SHUFFLE	COPY_MAP_DATA	340165000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	870629
+SHUFFLE	COMPRESS_BYTE_COUNT	870633
+SHUFFLE	COPY_MAP_DATA	16575000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	993871
+SHUFFLE	COMPRESS_BYTE_COUNT	993875
+SHUFFLE	COPY_MAP_DATA	98227000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	850938
+SHUFFLE	COMPRESS_BYTE_COUNT	850942
+SHUFFLE	COPY_MAP_DATA	20342000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	833556
+SHUFFLE	COMPRESS_BYTE_COUNT	833560
+SHUFFLE	COPY_MAP_DATA	39809000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	825147
+SHUFFLE	COMPRESS_BYTE_COUNT	825151
+SHUFFLE	COPY_MAP_DATA	378339000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	821604
+SHUFFLE	COMPRESS_BYTE_COUNT	821608
+SHUFFLE	COPY_MAP_DATA	251409000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	811881
+SHUFFLE	COMPRESS_BYTE_COUNT	811885
+SHUFFLE	COPY_MAP_DATA	2683532000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	814014
+SHUFFLE	COMPRESS_BYTE_COUNT	814018
+SHUFFLE	COPY_MAP_DATA	16656000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	867264
+SHUFFLE	COMPRESS_BYTE_COUNT	867268
+SHUFFLE	COPY_MAP_DATA	21022000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	818409
+SHUFFLE	COMPRESS_BYTE_COUNT	818413
+SHUFFLE	COPY_MAP_DATA	19181000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	727201
+SHUFFLE	COMPRESS_BYTE_COUNT	727205
+SHUFFLE	COPY_MAP_DATA	559136000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	725362
+SHUFFLE	COMPRESS_BYTE_COUNT	725366
+SHUFFLE	COPY_MAP_DATA	168465000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	824048
+SHUFFLE	COMPRESS_BYTE_COUNT	824052
+SHUFFLE	COPY_MAP_DATA	1292892000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	766599
+SHUFFLE	COMPRESS_BYTE_COUNT	766603
+SHUFFLE	COPY_MAP_DATA	54536000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	733892
+SHUFFLE	COMPRESS_BYTE_COUNT	733896
+SHUFFLE	COPY_MAP_DATA	11514000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	832856
+SHUFFLE	COMPRESS_BYTE_COUNT	832860
+SHUFFLE	COPY_MAP_DATA	796000000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	905829
+SHUFFLE	COMPRESS_BYTE_COUNT	905833
+SHUFFLE	COPY_MAP_DATA	107773000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	864156
+SHUFFLE	COMPRESS_BYTE_COUNT	864160
+SHUFFLE	COPY_MAP_DATA	49062000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	765947
+SHUFFLE	COMPRESS_BYTE_COUNT	765951
+SHUFFLE	COPY_MAP_DATA	12710000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	867041
+SHUFFLE	COMPRESS_BYTE_COUNT	867045
+SHUFFLE	COPY_MAP_DATA	4088683000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	731128
+SHUFFLE	COMPRESS_BYTE_COUNT	731132
+SHUFFLE	COPY_MAP_DATA	15650000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	759765
+SHUFFLE	COMPRESS_BYTE_COUNT	759769
+SHUFFLE	COPY_MAP_DATA	91885000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	827912
+SHUFFLE	COMPRESS_BYTE_COUNT	827916
+SHUFFLE	COPY_MAP_DATA	15064000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	786766
+SHUFFLE	COMPRESS_BYTE_COUNT	786770
+SHUFFLE	COPY_MAP_DATA	8087000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	757683
+SHUFFLE	COMPRESS_BYTE_COUNT	757687
+SHUFFLE	COPY_MAP_DATA	159945000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	770818
+SHUFFLE	COMPRESS_BYTE_COUNT	770822
+SHUFFLE	COPY_MAP_DATA	42519000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	747280
+SHUFFLE	COMPRESS_BYTE_COUNT	747284
+SHUFFLE	COPY_MAP_DATA	14933000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	753521
+SHUFFLE	COMPRESS_BYTE_COUNT	753525
+SHUFFLE	COPY_MAP_DATA	16762000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	729031
+SHUFFLE	COMPRESS_BYTE_COUNT	729035
+SHUFFLE	COPY_MAP_DATA	412552000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	817637
+SHUFFLE	COMPRESS_BYTE_COUNT	817641
+SHUFFLE	COPY_MAP_DATA	55297000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	934398
+SHUFFLE	COMPRESS_BYTE_COUNT	934402
+SHUFFLE	COPY_MAP_DATA	855820000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	786586
+SHUFFLE	COMPRESS_BYTE_COUNT	786590
+SHUFFLE	COPY_MAP_DATA	208066000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	751879
+SHUFFLE	COMPRESS_BYTE_COUNT	751883
+SHUFFLE	COPY_MAP_DATA	1787082000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	810307
+SHUFFLE	COMPRESS_BYTE_COUNT	810311
+SHUFFLE	COPY_MAP_DATA	125185000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	711194
+SHUFFLE	COMPRESS_BYTE_COUNT	711198
+SHUFFLE	COPY_MAP_DATA	263833000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1196048
+SHUFFLE	COMPRESS_BYTE_COUNT	1196052
+SHUFFLE	COPY_MAP_DATA	280947000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1017865
+SHUFFLE	COMPRESS_BYTE_COUNT	1017869
+SHUFFLE	COPY_MAP_DATA	22955000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	732825
+SHUFFLE	COMPRESS_BYTE_COUNT	732829
+SHUFFLE	COPY_MAP_DATA	14905000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	763044
+SHUFFLE	COMPRESS_BYTE_COUNT	763048
+SHUFFLE	COPY_MAP_DATA	63162000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	731745
+SHUFFLE	COMPRESS_BYTE_COUNT	731749
+SHUFFLE	COPY_MAP_DATA	15451000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	844345
+SHUFFLE	COMPRESS_BYTE_COUNT	844349
+SHUFFLE	COPY_MAP_DATA	1307022000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	739023
+SHUFFLE	COMPRESS_BYTE_COUNT	739027
+SHUFFLE	COPY_MAP_DATA	299766000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	745492
+SHUFFLE	COMPRESS_BYTE_COUNT	745496
+SHUFFLE	COPY_MAP_DATA	528585000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	732025
+SHUFFLE	COMPRESS_BYTE_COUNT	732029
+SHUFFLE	COPY_MAP_DATA	13098000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	756144
+SHUFFLE	COMPRESS_BYTE_COUNT	756148
+SHUFFLE	COPY_MAP_DATA	512271000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	759843
+SHUFFLE	COMPRESS_BYTE_COUNT	759847
+SHUFFLE	COPY_MAP_DATA	3291083000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	745898
+SHUFFLE	COMPRESS_BYTE_COUNT	745902
+SHUFFLE	COPY_MAP_DATA	147102000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	812390
+SHUFFLE	COMPRESS_BYTE_COUNT	812394
+SHUFFLE	COPY_MAP_DATA	37234000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	759943
+SHUFFLE	COMPRESS_BYTE_COUNT	759947
+SHUFFLE	COPY_MAP_DATA	1000908000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	911260
+SHUFFLE	COMPRESS_BYTE_COUNT	911264
+SHUFFLE	COPY_MAP_DATA	17963000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	758213
+SHUFFLE	COMPRESS_BYTE_COUNT	758217
+SHUFFLE	COPY_MAP_DATA	440471000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	851527
+SHUFFLE	COMPRESS_BYTE_COUNT	851531
+SHUFFLE	COPY_MAP_DATA	2427421000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	763155
+SHUFFLE	COMPRESS_BYTE_COUNT	763159
+SHUFFLE	COPY_MAP_DATA	25403000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	794610
+SHUFFLE	COMPRESS_BYTE_COUNT	794614
+SHUFFLE	COPY_MAP_DATA	24497000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	756592
+SHUFFLE	COMPRESS_BYTE_COUNT	756596
+SHUFFLE	COPY_MAP_DATA	24822000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	773454
+SHUFFLE	COMPRESS_BYTE_COUNT	773458
+SHUFFLE	COPY_MAP_DATA	417909000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	882259
+SHUFFLE	COMPRESS_BYTE_COUNT	882263
+SHUFFLE	COPY_MAP_DATA	11733000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	785335
+SHUFFLE	COMPRESS_BYTE_COUNT	785339
+SHUFFLE	COPY_MAP_DATA	29879000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	738857
+SHUFFLE	COMPRESS_BYTE_COUNT	738861
+SHUFFLE	COPY_MAP_DATA	830020000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	786520
+SHUFFLE	COMPRESS_BYTE_COUNT	786524
+SHUFFLE	COPY_MAP_DATA	171941000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	831508
+SHUFFLE	COMPRESS_BYTE_COUNT	831512
+SHUFFLE	COPY_MAP_DATA	6273741000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	711592
+SHUFFLE	COMPRESS_BYTE_COUNT	711596
+SHUFFLE	COPY_MAP_DATA	193705000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	873659
+SHUFFLE	COMPRESS_BYTE_COUNT	873663
+SHUFFLE	COPY_MAP_DATA	412620000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	770041
+SHUFFLE	COMPRESS_BYTE_COUNT	770045
+SHUFFLE	COPY_MAP_DATA	4392936000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	810065
+SHUFFLE	COMPRESS_BYTE_COUNT	810069
+SHUFFLE	COPY_MAP_DATA	8284000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	976792
+SHUFFLE	COMPRESS_BYTE_COUNT	976796
+SHUFFLE	COPY_MAP_DATA	47054000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	810991
+SHUFFLE	COMPRESS_BYTE_COUNT	810995
+SHUFFLE	COPY_MAP_DATA	280908000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	649954
+SHUFFLE	COMPRESS_BYTE_COUNT	649958
+SHUFFLE	COPY_MAP_DATA	59483000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	811497
+SHUFFLE	COMPRESS_BYTE_COUNT	811501
+SHUFFLE	COPY_MAP_DATA	220216000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	738857
+SHUFFLE	COMPRESS_BYTE_COUNT	738861
+SHUFFLE	COPY_MAP_DATA	36242000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	835715
+SHUFFLE	COMPRESS_BYTE_COUNT	835719
+SHUFFLE	COPY_MAP_DATA	159389000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	797756
+SHUFFLE	COMPRESS_BYTE_COUNT	797760
+SHUFFLE	COPY_MAP_DATA	105898000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	747994
+SHUFFLE	COMPRESS_BYTE_COUNT	747998
+SHUFFLE	COPY_MAP_DATA	575067000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	903040
+SHUFFLE	COMPRESS_BYTE_COUNT	903044
+SHUFFLE	COPY_MAP_DATA	169550000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	834255
+SHUFFLE	COMPRESS_BYTE_COUNT	834259
+SHUFFLE	COPY_MAP_DATA	137770000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	795365
+SHUFFLE	COMPRESS_BYTE_COUNT	795369
+SHUFFLE	COPY_MAP_DATA	512540000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	815655
+SHUFFLE	COMPRESS_BYTE_COUNT	815659
+SHUFFLE	COPY_MAP_DATA	16315000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	697960
+SHUFFLE	COMPRESS_BYTE_COUNT	697964
+SHUFFLE	COPY_MAP_DATA	10138000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	759067
+SHUFFLE	COMPRESS_BYTE_COUNT	759071
+SHUFFLE	COPY_MAP_DATA	9258000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	869369
+SHUFFLE	COMPRESS_BYTE_COUNT	869373
+SHUFFLE	COPY_MAP_DATA	50152000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	693305
+SHUFFLE	COMPRESS_BYTE_COUNT	693309
+SHUFFLE	COPY_MAP_DATA	16845000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	751198
+SHUFFLE	COMPRESS_BYTE_COUNT	751202
+SHUFFLE	COPY_MAP_DATA	20751000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	869784
+SHUFFLE	COMPRESS_BYTE_COUNT	869788
+SHUFFLE	COPY_MAP_DATA	30977000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	771035
+SHUFFLE	COMPRESS_BYTE_COUNT	771039
+SHUFFLE	COPY_MAP_DATA	518044000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	788346
+SHUFFLE	COMPRESS_BYTE_COUNT	788350
+SHUFFLE	COPY_MAP_DATA	27529000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	706431
+SHUFFLE	COMPRESS_BYTE_COUNT	706435
+SHUFFLE	COPY_MAP_DATA	4357571000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	829753
+SHUFFLE	COMPRESS_BYTE_COUNT	829757
+SHUFFLE	COPY_MAP_DATA	115272000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	758011
+SHUFFLE	COMPRESS_BYTE_COUNT	758015
+SHUFFLE	COPY_MAP_DATA	17593000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	937362
+SHUFFLE	COMPRESS_BYTE_COUNT	937366
+SHUFFLE	COPY_MAP_DATA	13952000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	625228
+SHUFFLE	COMPRESS_BYTE_COUNT	625232
+SHUFFLE	COPY_MAP_DATA	40254000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	775355
+SHUFFLE	COMPRESS_BYTE_COUNT	775359
+SHUFFLE	COPY_MAP_DATA	1028664000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	707215
+SHUFFLE	COMPRESS_BYTE_COUNT	707219
+SHUFFLE	COPY_MAP_DATA	21954000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	921191
+SHUFFLE	COMPRESS_BYTE_COUNT	921195
+SHUFFLE	COPY_MAP_DATA	29424000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	933445
+SHUFFLE	COMPRESS_BYTE_COUNT	933449
+SHUFFLE	COPY_MAP_DATA	14870000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	833422
+SHUFFLE	COMPRESS_BYTE_COUNT	833426
+SHUFFLE	COPY_MAP_DATA	26546000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	750975
+SHUFFLE	COMPRESS_BYTE_COUNT	750979
+SHUFFLE	COPY_MAP_DATA	17044000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	727163
+SHUFFLE	COMPRESS_BYTE_COUNT	727167
+SHUFFLE	COPY_MAP_DATA	154646000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	114972220000
+MERGE	READ_WRITE	111865660000
+MERGE	READ_WRITE_COUNT	2
+MERGE	COMBINE	0
+MERGE	WRITE	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	13329314000
+SORT	READ_WRITE	13188452000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	106942464
+REDUCE	SETUP	320000
+REDUCE	SETUP_MEM	106942464
+REDUCE	CLEANUP	37000
+REDUCE	CLEANUP_MEM	167116760
+REDUCE	TOTAL_RUN	118816322000
+REDUCE	READ	8775233000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	103625915000
+REDUCE	WRITE	48167893000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	68152346
+REDUCE	VALUE_BYTE_COUNT	62580666
+REDUCE	REDUCE_MEM	167118808
+REDUCE	WRITE	2257167000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	661741112315
@@ -0,0 +1,1333 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1764418
+SHUFFLE	COMPRESS_BYTE_COUNT	1764422
+SHUFFLE	COPY_MAP_DATA	295511000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1753751
+SHUFFLE	COMPRESS_BYTE_COUNT	1753755
+SHUFFLE	COPY_MAP_DATA	26630000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1853825
+SHUFFLE	COMPRESS_BYTE_COUNT	1853829
+SHUFFLE	COPY_MAP_DATA	39591000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1934529
+SHUFFLE	COMPRESS_BYTE_COUNT	1934533
+SHUFFLE	COPY_MAP_DATA	33734000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1623901
+SHUFFLE	COMPRESS_BYTE_COUNT	1623905
+SHUFFLE	COPY_MAP_DATA	210848000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1723362
+SHUFFLE	COMPRESS_BYTE_COUNT	1723366
+SHUFFLE	COPY_MAP_DATA	28386000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1847646
+SHUFFLE	COMPRESS_BYTE_COUNT	1847650
+SHUFFLE	COPY_MAP_DATA	188655000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1953055
+SHUFFLE	COMPRESS_BYTE_COUNT	1953059
+SHUFFLE	COPY_MAP_DATA	13896000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1921805
+SHUFFLE	COMPRESS_BYTE_COUNT	1921809
+SHUFFLE	COPY_MAP_DATA	101681000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1960648
+SHUFFLE	COMPRESS_BYTE_COUNT	1960652
+SHUFFLE	COPY_MAP_DATA	54177000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1894031
+SHUFFLE	COMPRESS_BYTE_COUNT	1894035
+SHUFFLE	COPY_MAP_DATA	347522000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1846014
+SHUFFLE	COMPRESS_BYTE_COUNT	1846018
+SHUFFLE	COPY_MAP_DATA	102485000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1859088
+SHUFFLE	COMPRESS_BYTE_COUNT	1859092
+SHUFFLE	COPY_MAP_DATA	29942000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1867628
+SHUFFLE	COMPRESS_BYTE_COUNT	1867632
+SHUFFLE	COPY_MAP_DATA	30731000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2002659
+SHUFFLE	COMPRESS_BYTE_COUNT	2002663
+SHUFFLE	COPY_MAP_DATA	114480000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1849589
+SHUFFLE	COMPRESS_BYTE_COUNT	1849593
+SHUFFLE	COPY_MAP_DATA	75211000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1932410
+SHUFFLE	COMPRESS_BYTE_COUNT	1932414
+SHUFFLE	COPY_MAP_DATA	65129000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1823087
+SHUFFLE	COMPRESS_BYTE_COUNT	1823091
+SHUFFLE	COPY_MAP_DATA	139312000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1783452
+SHUFFLE	COMPRESS_BYTE_COUNT	1783456
+SHUFFLE	COPY_MAP_DATA	31447000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2091008
+SHUFFLE	COMPRESS_BYTE_COUNT	2091012
+SHUFFLE	COPY_MAP_DATA	314601000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1911604
+SHUFFLE	COMPRESS_BYTE_COUNT	1911608
+SHUFFLE	COPY_MAP_DATA	46315000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1859050
+SHUFFLE	COMPRESS_BYTE_COUNT	1859054
+SHUFFLE	COPY_MAP_DATA	26569000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1981188
+SHUFFLE	COMPRESS_BYTE_COUNT	1981192
+SHUFFLE	COPY_MAP_DATA	28735000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1844763
+SHUFFLE	COMPRESS_BYTE_COUNT	1844767
+SHUFFLE	COPY_MAP_DATA	41220000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1891933
+SHUFFLE	COMPRESS_BYTE_COUNT	1891937
+SHUFFLE	COPY_MAP_DATA	53672000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1868921
+SHUFFLE	COMPRESS_BYTE_COUNT	1868925
+SHUFFLE	COPY_MAP_DATA	189288000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1715076
+SHUFFLE	COMPRESS_BYTE_COUNT	1715080
+SHUFFLE	COPY_MAP_DATA	146169000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1843657
+SHUFFLE	COMPRESS_BYTE_COUNT	1843661
+SHUFFLE	COPY_MAP_DATA	77840000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2026419
+SHUFFLE	COMPRESS_BYTE_COUNT	2026423
+SHUFFLE	COPY_MAP_DATA	47546000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1943863
+SHUFFLE	COMPRESS_BYTE_COUNT	1943867
+SHUFFLE	COPY_MAP_DATA	78389000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1787308
+SHUFFLE	COMPRESS_BYTE_COUNT	1787312
+SHUFFLE	COPY_MAP_DATA	559429000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1913738
+SHUFFLE	COMPRESS_BYTE_COUNT	1913742
+SHUFFLE	COPY_MAP_DATA	5988523000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1742185
+SHUFFLE	COMPRESS_BYTE_COUNT	1742189
+SHUFFLE	COPY_MAP_DATA	1308943000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1817169
+SHUFFLE	COMPRESS_BYTE_COUNT	1817173
+SHUFFLE	COPY_MAP_DATA	3534776000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1919879
+SHUFFLE	COMPRESS_BYTE_COUNT	1919883
+SHUFFLE	COPY_MAP_DATA	157670000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1738415
+SHUFFLE	COMPRESS_BYTE_COUNT	1738419
+SHUFFLE	COPY_MAP_DATA	112488000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1716211
+SHUFFLE	COMPRESS_BYTE_COUNT	1716215
+SHUFFLE	COPY_MAP_DATA	84256000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1805125
+SHUFFLE	COMPRESS_BYTE_COUNT	1805129
+SHUFFLE	COPY_MAP_DATA	1228702000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1790465
+SHUFFLE	COMPRESS_BYTE_COUNT	1790469
+SHUFFLE	COPY_MAP_DATA	177448000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1840549
+SHUFFLE	COMPRESS_BYTE_COUNT	1840553
+SHUFFLE	COPY_MAP_DATA	87137000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1660031
+SHUFFLE	COMPRESS_BYTE_COUNT	1660035
+SHUFFLE	COPY_MAP_DATA	99255000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1600254
+SHUFFLE	COMPRESS_BYTE_COUNT	1600258
+SHUFFLE	COPY_MAP_DATA	232177000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1803030
+SHUFFLE	COMPRESS_BYTE_COUNT	1803034
+SHUFFLE	COPY_MAP_DATA	30619000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1890137
+SHUFFLE	COMPRESS_BYTE_COUNT	1890141
+SHUFFLE	COPY_MAP_DATA	39274000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1894254
+SHUFFLE	COMPRESS_BYTE_COUNT	1894258
+SHUFFLE	COPY_MAP_DATA	160428000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1697376
+SHUFFLE	COMPRESS_BYTE_COUNT	1697380
+SHUFFLE	COPY_MAP_DATA	262682000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1833589
+SHUFFLE	COMPRESS_BYTE_COUNT	1833593
+SHUFFLE	COPY_MAP_DATA	650319000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1829782
+SHUFFLE	COMPRESS_BYTE_COUNT	1829786
+SHUFFLE	COPY_MAP_DATA	41476000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1680653
+SHUFFLE	COMPRESS_BYTE_COUNT	1680657
+SHUFFLE	COPY_MAP_DATA	87886000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1764355
+SHUFFLE	COMPRESS_BYTE_COUNT	1764359
+SHUFFLE	COPY_MAP_DATA	261482000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1490841
+SHUFFLE	COMPRESS_BYTE_COUNT	1490845
+SHUFFLE	COPY_MAP_DATA	19940000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1861084
+SHUFFLE	COMPRESS_BYTE_COUNT	1861088
+SHUFFLE	COPY_MAP_DATA	75992000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1649583
+SHUFFLE	COMPRESS_BYTE_COUNT	1649587
+SHUFFLE	COPY_MAP_DATA	259584000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2106919
+SHUFFLE	COMPRESS_BYTE_COUNT	2106923
+SHUFFLE	COPY_MAP_DATA	238944000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1624682
+SHUFFLE	COMPRESS_BYTE_COUNT	1624686
+SHUFFLE	COPY_MAP_DATA	20852000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1805781
+SHUFFLE	COMPRESS_BYTE_COUNT	1805785
+SHUFFLE	COPY_MAP_DATA	34512000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1807175
+SHUFFLE	COMPRESS_BYTE_COUNT	1807179
+SHUFFLE	COPY_MAP_DATA	294702000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1688284
+SHUFFLE	COMPRESS_BYTE_COUNT	1688288
+SHUFFLE	COPY_MAP_DATA	1157669000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1935927
+SHUFFLE	COMPRESS_BYTE_COUNT	1935931
+SHUFFLE	COPY_MAP_DATA	319183000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1661838
+SHUFFLE	COMPRESS_BYTE_COUNT	1661842
+SHUFFLE	COPY_MAP_DATA	24824000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1922100
+SHUFFLE	COMPRESS_BYTE_COUNT	1922104
+SHUFFLE	COPY_MAP_DATA	57443000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1512970
+SHUFFLE	COMPRESS_BYTE_COUNT	1512974
+SHUFFLE	COPY_MAP_DATA	76893000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1622625
+SHUFFLE	COMPRESS_BYTE_COUNT	1622629
+SHUFFLE	COPY_MAP_DATA	206337000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1510155
+SHUFFLE	COMPRESS_BYTE_COUNT	1510159
+SHUFFLE	COPY_MAP_DATA	214156000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1595215
+SHUFFLE	COMPRESS_BYTE_COUNT	1595219
+SHUFFLE	COPY_MAP_DATA	389329000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1594662
+SHUFFLE	COMPRESS_BYTE_COUNT	1594666
+SHUFFLE	COPY_MAP_DATA	183133000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1549340
+SHUFFLE	COMPRESS_BYTE_COUNT	1549344
+SHUFFLE	COPY_MAP_DATA	178191000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1642691
+SHUFFLE	COMPRESS_BYTE_COUNT	1642695
+SHUFFLE	COPY_MAP_DATA	461767000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1564393
+SHUFFLE	COMPRESS_BYTE_COUNT	1564397
+SHUFFLE	COPY_MAP_DATA	62323000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1546514
+SHUFFLE	COMPRESS_BYTE_COUNT	1546518
+SHUFFLE	COPY_MAP_DATA	27435000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1838011
+SHUFFLE	COMPRESS_BYTE_COUNT	1838015
+SHUFFLE	COPY_MAP_DATA	310309000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1676716
+SHUFFLE	COMPRESS_BYTE_COUNT	1676720
+SHUFFLE	COPY_MAP_DATA	90974000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1562078
+SHUFFLE	COMPRESS_BYTE_COUNT	1562082
+SHUFFLE	COPY_MAP_DATA	72164000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1459375
+SHUFFLE	COMPRESS_BYTE_COUNT	1459379
+SHUFFLE	COPY_MAP_DATA	21650000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1549134
+SHUFFLE	COMPRESS_BYTE_COUNT	1549138
+SHUFFLE	COPY_MAP_DATA	156870000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1614831
+SHUFFLE	COMPRESS_BYTE_COUNT	1614835
+SHUFFLE	COPY_MAP_DATA	7585915000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1588497
+SHUFFLE	COMPRESS_BYTE_COUNT	1588501
+SHUFFLE	COPY_MAP_DATA	124583000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1788597
+SHUFFLE	COMPRESS_BYTE_COUNT	1788601
+SHUFFLE	COPY_MAP_DATA	62599000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1585195
+SHUFFLE	COMPRESS_BYTE_COUNT	1585199
+SHUFFLE	COPY_MAP_DATA	33532000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1783105
+SHUFFLE	COMPRESS_BYTE_COUNT	1783109
+SHUFFLE	COPY_MAP_DATA	35791000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1750130
+SHUFFLE	COMPRESS_BYTE_COUNT	1750134
+SHUFFLE	COPY_MAP_DATA	103710000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1597257
+SHUFFLE	COMPRESS_BYTE_COUNT	1597261
+SHUFFLE	COPY_MAP_DATA	186206000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1515431
+SHUFFLE	COMPRESS_BYTE_COUNT	1515435
+SHUFFLE	COPY_MAP_DATA	57176000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1677466
+SHUFFLE	COMPRESS_BYTE_COUNT	1677470
+SHUFFLE	COPY_MAP_DATA	69793000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1790216
+SHUFFLE	COMPRESS_BYTE_COUNT	1790220
+SHUFFLE	COPY_MAP_DATA	41900000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1505931
+SHUFFLE	COMPRESS_BYTE_COUNT	1505935
+SHUFFLE	COPY_MAP_DATA	184042000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1492694
+SHUFFLE	COMPRESS_BYTE_COUNT	1492698
+SHUFFLE	COPY_MAP_DATA	882494000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1379625
+SHUFFLE	COMPRESS_BYTE_COUNT	1379629
+SHUFFLE	COPY_MAP_DATA	101696000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1764568
+SHUFFLE	COMPRESS_BYTE_COUNT	1764572
+SHUFFLE	COPY_MAP_DATA	596072000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	795459
+SHUFFLE	COMPRESS_BYTE_COUNT	795463
+SHUFFLE	COPY_MAP_DATA	1139094000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	891237
+SHUFFLE	COMPRESS_BYTE_COUNT	891241
+SHUFFLE	COPY_MAP_DATA	39609000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1675309
+SHUFFLE	COMPRESS_BYTE_COUNT	1675313
+SHUFFLE	COPY_MAP_DATA	29327000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1837036
+SHUFFLE	COMPRESS_BYTE_COUNT	1837040
+SHUFFLE	COPY_MAP_DATA	132266000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	966488
+SHUFFLE	COMPRESS_BYTE_COUNT	966492
+SHUFFLE	COPY_MAP_DATA	60855000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	832127
+SHUFFLE	COMPRESS_BYTE_COUNT	832131
+SHUFFLE	COPY_MAP_DATA	232698000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	828444
+SHUFFLE	COMPRESS_BYTE_COUNT	828448
+SHUFFLE	COPY_MAP_DATA	208423000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1503382
+SHUFFLE	COMPRESS_BYTE_COUNT	1503386
+SHUFFLE	COPY_MAP_DATA	23685000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1531130
+SHUFFLE	COMPRESS_BYTE_COUNT	1531134
+SHUFFLE	COPY_MAP_DATA	28496000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1467596
+SHUFFLE	COMPRESS_BYTE_COUNT	1467600
+SHUFFLE	COPY_MAP_DATA	24013000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	986923
+SHUFFLE	COMPRESS_BYTE_COUNT	986927
+SHUFFLE	COPY_MAP_DATA	97363000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1362253
+SHUFFLE	COMPRESS_BYTE_COUNT	1362257
+SHUFFLE	COPY_MAP_DATA	58842000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	987765
+SHUFFLE	COMPRESS_BYTE_COUNT	987769
+SHUFFLE	COPY_MAP_DATA	775197000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1623077
+SHUFFLE	COMPRESS_BYTE_COUNT	1623081
+SHUFFLE	COPY_MAP_DATA	80152000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1663002
+SHUFFLE	COMPRESS_BYTE_COUNT	1663006
+SHUFFLE	COPY_MAP_DATA	240003000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1634304
+SHUFFLE	COMPRESS_BYTE_COUNT	1634308
+SHUFFLE	COPY_MAP_DATA	61125000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	929926
+SHUFFLE	COMPRESS_BYTE_COUNT	929930
+SHUFFLE	COPY_MAP_DATA	100442000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1038008
+SHUFFLE	COMPRESS_BYTE_COUNT	1038012
+SHUFFLE	COPY_MAP_DATA	35683000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1724911
+SHUFFLE	COMPRESS_BYTE_COUNT	1724915
+SHUFFLE	COPY_MAP_DATA	36762000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1666075
+SHUFFLE	COMPRESS_BYTE_COUNT	1666079
+SHUFFLE	COPY_MAP_DATA	34520000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	981680
+SHUFFLE	COMPRESS_BYTE_COUNT	981684
+SHUFFLE	COPY_MAP_DATA	21297000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1495541
+SHUFFLE	COMPRESS_BYTE_COUNT	1495545
+SHUFFLE	COPY_MAP_DATA	1176750000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	922642
+SHUFFLE	COMPRESS_BYTE_COUNT	922646
+SHUFFLE	COPY_MAP_DATA	16896000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1570560
+SHUFFLE	COMPRESS_BYTE_COUNT	1570564
+SHUFFLE	COPY_MAP_DATA	28399000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1595607
+SHUFFLE	COMPRESS_BYTE_COUNT	1595611
+SHUFFLE	COPY_MAP_DATA	173132000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1588641
+SHUFFLE	COMPRESS_BYTE_COUNT	1588645
+SHUFFLE	COPY_MAP_DATA	92092000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2588201
+SHUFFLE	COMPRESS_BYTE_COUNT	2588205
+SHUFFLE	COPY_MAP_DATA	72771000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	994267
+SHUFFLE	COMPRESS_BYTE_COUNT	994271
+SHUFFLE	COPY_MAP_DATA	78685000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	924418
+SHUFFLE	COMPRESS_BYTE_COUNT	924422
+SHUFFLE	COPY_MAP_DATA	388219000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1596634
+SHUFFLE	COMPRESS_BYTE_COUNT	1596638
+SHUFFLE	COPY_MAP_DATA	46732000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1535561
+SHUFFLE	COMPRESS_BYTE_COUNT	1535565
+SHUFFLE	COPY_MAP_DATA	67588000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	953431
+SHUFFLE	COMPRESS_BYTE_COUNT	953435
+SHUFFLE	COPY_MAP_DATA	56364000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	959490
+SHUFFLE	COMPRESS_BYTE_COUNT	959494
+SHUFFLE	COPY_MAP_DATA	24957000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	942656
+SHUFFLE	COMPRESS_BYTE_COUNT	942660
+SHUFFLE	COPY_MAP_DATA	19426000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	987042
+SHUFFLE	COMPRESS_BYTE_COUNT	987046
+SHUFFLE	COPY_MAP_DATA	212094000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	816966
+SHUFFLE	COMPRESS_BYTE_COUNT	816970
+SHUFFLE	COPY_MAP_DATA	29334000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1049230
+SHUFFLE	COMPRESS_BYTE_COUNT	1049234
+SHUFFLE	COPY_MAP_DATA	41498000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	896239
+SHUFFLE	COMPRESS_BYTE_COUNT	896243
+SHUFFLE	COPY_MAP_DATA	67623000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	910214
+SHUFFLE	COMPRESS_BYTE_COUNT	910218
+SHUFFLE	COPY_MAP_DATA	42211000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	962484
+SHUFFLE	COMPRESS_BYTE_COUNT	962488
+SHUFFLE	COPY_MAP_DATA	44276000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	947420
+SHUFFLE	COMPRESS_BYTE_COUNT	947424
+SHUFFLE	COPY_MAP_DATA	159616000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	971799
+SHUFFLE	COMPRESS_BYTE_COUNT	971803
+SHUFFLE	COPY_MAP_DATA	39447000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	958631
+SHUFFLE	COMPRESS_BYTE_COUNT	958635
+SHUFFLE	COPY_MAP_DATA	21012000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	963176
+SHUFFLE	COMPRESS_BYTE_COUNT	963180
+SHUFFLE	COPY_MAP_DATA	211939000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	956100
+SHUFFLE	COMPRESS_BYTE_COUNT	956104
+SHUFFLE	COPY_MAP_DATA	300947000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	949202
+SHUFFLE	COMPRESS_BYTE_COUNT	949206
+SHUFFLE	COPY_MAP_DATA	38271000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	923230
+SHUFFLE	COMPRESS_BYTE_COUNT	923234
+SHUFFLE	COPY_MAP_DATA	272498000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	963008
+SHUFFLE	COMPRESS_BYTE_COUNT	963012
+SHUFFLE	COPY_MAP_DATA	76952000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	944831
+SHUFFLE	COMPRESS_BYTE_COUNT	944835
+SHUFFLE	COPY_MAP_DATA	108728000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1614191
+SHUFFLE	COMPRESS_BYTE_COUNT	1614195
+SHUFFLE	COPY_MAP_DATA	11610182000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	966234
+SHUFFLE	COMPRESS_BYTE_COUNT	966238
+SHUFFLE	COPY_MAP_DATA	99755000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	975041
+SHUFFLE	COMPRESS_BYTE_COUNT	975045
+SHUFFLE	COPY_MAP_DATA	31793000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	941941
+SHUFFLE	COMPRESS_BYTE_COUNT	941945
+SHUFFLE	COPY_MAP_DATA	229863000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1039379
+SHUFFLE	COMPRESS_BYTE_COUNT	1039383
+SHUFFLE	COPY_MAP_DATA	40415000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	939900
+SHUFFLE	COMPRESS_BYTE_COUNT	939904
+SHUFFLE	COPY_MAP_DATA	145348000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	966178
+SHUFFLE	COMPRESS_BYTE_COUNT	966182
+SHUFFLE	COPY_MAP_DATA	85543000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	938943
+SHUFFLE	COMPRESS_BYTE_COUNT	938947
+SHUFFLE	COPY_MAP_DATA	724462000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	936101
+SHUFFLE	COMPRESS_BYTE_COUNT	936105
+SHUFFLE	COPY_MAP_DATA	127760000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	925704
+SHUFFLE	COMPRESS_BYTE_COUNT	925708
+SHUFFLE	COPY_MAP_DATA	89892000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	914639
+SHUFFLE	COMPRESS_BYTE_COUNT	914643
+SHUFFLE	COPY_MAP_DATA	17518000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	990049
+SHUFFLE	COMPRESS_BYTE_COUNT	990053
+SHUFFLE	COPY_MAP_DATA	134162000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1128526
+SHUFFLE	COMPRESS_BYTE_COUNT	1128530
+SHUFFLE	COPY_MAP_DATA	40367000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	924266
+SHUFFLE	COMPRESS_BYTE_COUNT	924270
+SHUFFLE	COPY_MAP_DATA	86897000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	888625
+SHUFFLE	COMPRESS_BYTE_COUNT	888629
+SHUFFLE	COPY_MAP_DATA	92839000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	891335
+SHUFFLE	COMPRESS_BYTE_COUNT	891339
+SHUFFLE	COPY_MAP_DATA	28665000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	916434
+SHUFFLE	COMPRESS_BYTE_COUNT	916438
+SHUFFLE	COPY_MAP_DATA	75749000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	933348
+SHUFFLE	COMPRESS_BYTE_COUNT	933352
+SHUFFLE	COPY_MAP_DATA	45146000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	967669
+SHUFFLE	COMPRESS_BYTE_COUNT	967673
+SHUFFLE	COPY_MAP_DATA	19262000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	931377
+SHUFFLE	COMPRESS_BYTE_COUNT	931381
+SHUFFLE	COPY_MAP_DATA	39466000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	935368
+SHUFFLE	COMPRESS_BYTE_COUNT	935372
+SHUFFLE	COPY_MAP_DATA	9265000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	949415
+SHUFFLE	COMPRESS_BYTE_COUNT	949419
+SHUFFLE	COPY_MAP_DATA	19457000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	931719
+SHUFFLE	COMPRESS_BYTE_COUNT	931723
+SHUFFLE	COPY_MAP_DATA	103373000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	938483
+SHUFFLE	COMPRESS_BYTE_COUNT	938487
+SHUFFLE	COPY_MAP_DATA	20209000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	981051
+SHUFFLE	COMPRESS_BYTE_COUNT	981055
+SHUFFLE	COPY_MAP_DATA	48865000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	970466
+SHUFFLE	COMPRESS_BYTE_COUNT	970470
+SHUFFLE	COPY_MAP_DATA	252873000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	955799
+SHUFFLE	COMPRESS_BYTE_COUNT	955803
+SHUFFLE	COPY_MAP_DATA	46397000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	955773
+SHUFFLE	COMPRESS_BYTE_COUNT	955777
+SHUFFLE	COPY_MAP_DATA	10086000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	877483
+SHUFFLE	COMPRESS_BYTE_COUNT	877487
+SHUFFLE	COPY_MAP_DATA	11624000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	934551
+SHUFFLE	COMPRESS_BYTE_COUNT	934555
+SHUFFLE	COPY_MAP_DATA	37243000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	934340
+SHUFFLE	COMPRESS_BYTE_COUNT	934344
+SHUFFLE	COPY_MAP_DATA	18597000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	862418
+SHUFFLE	COMPRESS_BYTE_COUNT	862422
+SHUFFLE	COPY_MAP_DATA	26753000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	910648
+SHUFFLE	COMPRESS_BYTE_COUNT	910652
+SHUFFLE	COPY_MAP_DATA	95331000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	917892
+SHUFFLE	COMPRESS_BYTE_COUNT	917896
+SHUFFLE	COPY_MAP_DATA	97745000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	928546
+SHUFFLE	COMPRESS_BYTE_COUNT	928550
+SHUFFLE	COPY_MAP_DATA	25111000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	935911
+SHUFFLE	COMPRESS_BYTE_COUNT	935915
+SHUFFLE	COPY_MAP_DATA	307595000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	885851
+SHUFFLE	COMPRESS_BYTE_COUNT	885855
+SHUFFLE	COPY_MAP_DATA	105700000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	913927
+SHUFFLE	COMPRESS_BYTE_COUNT	913931
+SHUFFLE	COPY_MAP_DATA	41114000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	900806
+SHUFFLE	COMPRESS_BYTE_COUNT	900810
+SHUFFLE	COPY_MAP_DATA	139866000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	901459
+SHUFFLE	COMPRESS_BYTE_COUNT	901463
+SHUFFLE	COPY_MAP_DATA	82669000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	922283
+SHUFFLE	COMPRESS_BYTE_COUNT	922287
+SHUFFLE	COPY_MAP_DATA	18147000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	925718
+SHUFFLE	COMPRESS_BYTE_COUNT	925722
+SHUFFLE	COPY_MAP_DATA	108432000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	872575
+SHUFFLE	COMPRESS_BYTE_COUNT	872579
+SHUFFLE	COPY_MAP_DATA	43766000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	819134
+SHUFFLE	COMPRESS_BYTE_COUNT	819138
+SHUFFLE	COPY_MAP_DATA	84028000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	877344
+SHUFFLE	COMPRESS_BYTE_COUNT	877348
+SHUFFLE	COPY_MAP_DATA	18053000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	932822
+SHUFFLE	COMPRESS_BYTE_COUNT	932826
+SHUFFLE	COPY_MAP_DATA	17481000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	895944
+SHUFFLE	COMPRESS_BYTE_COUNT	895948
+SHUFFLE	COPY_MAP_DATA	117935000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	929833
+SHUFFLE	COMPRESS_BYTE_COUNT	929837
+SHUFFLE	COPY_MAP_DATA	34826000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	877197
+SHUFFLE	COMPRESS_BYTE_COUNT	877201
+SHUFFLE	COPY_MAP_DATA	101231000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	974843
+SHUFFLE	COMPRESS_BYTE_COUNT	974847
+SHUFFLE	COPY_MAP_DATA	486804000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	884613
+SHUFFLE	COMPRESS_BYTE_COUNT	884617
+SHUFFLE	COPY_MAP_DATA	9352000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	903166
+SHUFFLE	COMPRESS_BYTE_COUNT	903170
+SHUFFLE	COPY_MAP_DATA	36085000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	916323
+SHUFFLE	COMPRESS_BYTE_COUNT	916327
+SHUFFLE	COPY_MAP_DATA	196171000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	850160
+SHUFFLE	COMPRESS_BYTE_COUNT	850164
+SHUFFLE	COPY_MAP_DATA	122642000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	864704
+SHUFFLE	COMPRESS_BYTE_COUNT	864708
+SHUFFLE	COPY_MAP_DATA	21830000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	948978
+SHUFFLE	COMPRESS_BYTE_COUNT	948982
+SHUFFLE	COPY_MAP_DATA	17474000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	876930
+SHUFFLE	COMPRESS_BYTE_COUNT	876934
+SHUFFLE	COPY_MAP_DATA	16175000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	899866
+SHUFFLE	COMPRESS_BYTE_COUNT	899870
+SHUFFLE	COPY_MAP_DATA	9352000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	879227
+SHUFFLE	COMPRESS_BYTE_COUNT	879231
+SHUFFLE	COPY_MAP_DATA	18435000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	865955
+SHUFFLE	COMPRESS_BYTE_COUNT	865959
+SHUFFLE	COPY_MAP_DATA	34356000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	854492
+SHUFFLE	COMPRESS_BYTE_COUNT	854496
+SHUFFLE	COPY_MAP_DATA	20037000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	929690
+SHUFFLE	COMPRESS_BYTE_COUNT	929694
+SHUFFLE	COPY_MAP_DATA	17853000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	930438
+SHUFFLE	COMPRESS_BYTE_COUNT	930442
+SHUFFLE	COPY_MAP_DATA	17045000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	874689
+SHUFFLE	COMPRESS_BYTE_COUNT	874693
+SHUFFLE	COPY_MAP_DATA	236057000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	858014
+SHUFFLE	COMPRESS_BYTE_COUNT	858018
+SHUFFLE	COPY_MAP_DATA	30228000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	851009
+SHUFFLE	COMPRESS_BYTE_COUNT	851013
+SHUFFLE	COPY_MAP_DATA	33201000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	903207
+SHUFFLE	COMPRESS_BYTE_COUNT	903211
+SHUFFLE	COPY_MAP_DATA	823684000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	861150
+SHUFFLE	COMPRESS_BYTE_COUNT	861154
+SHUFFLE	COPY_MAP_DATA	17870000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	883525
+SHUFFLE	COMPRESS_BYTE_COUNT	883529
+SHUFFLE	COPY_MAP_DATA	898439000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	839743
+SHUFFLE	COMPRESS_BYTE_COUNT	839747
+SHUFFLE	COPY_MAP_DATA	65379000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	876093
+SHUFFLE	COMPRESS_BYTE_COUNT	876097
+SHUFFLE	COPY_MAP_DATA	22462000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	865708
+SHUFFLE	COMPRESS_BYTE_COUNT	865712
+SHUFFLE	COPY_MAP_DATA	81841000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	811680
+SHUFFLE	COMPRESS_BYTE_COUNT	811684
+SHUFFLE	COPY_MAP_DATA	158050000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	781704
+SHUFFLE	COMPRESS_BYTE_COUNT	781708
+SHUFFLE	COPY_MAP_DATA	2715783000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	861721
+SHUFFLE	COMPRESS_BYTE_COUNT	861725
+SHUFFLE	COPY_MAP_DATA	94166000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	811469
+SHUFFLE	COMPRESS_BYTE_COUNT	811473
+SHUFFLE	COPY_MAP_DATA	78205000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	861220
+SHUFFLE	COMPRESS_BYTE_COUNT	861224
+SHUFFLE	COPY_MAP_DATA	148261000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	807184
+SHUFFLE	COMPRESS_BYTE_COUNT	807188
+SHUFFLE	COPY_MAP_DATA	60500000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	830272
+SHUFFLE	COMPRESS_BYTE_COUNT	830276
+SHUFFLE	COPY_MAP_DATA	18085000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	898465
+SHUFFLE	COMPRESS_BYTE_COUNT	898469
+SHUFFLE	COPY_MAP_DATA	24484000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	843284
+SHUFFLE	COMPRESS_BYTE_COUNT	843288
+SHUFFLE	COPY_MAP_DATA	12009000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	747468
+SHUFFLE	COMPRESS_BYTE_COUNT	747472
+SHUFFLE	COPY_MAP_DATA	15927000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1019606
+SHUFFLE	COMPRESS_BYTE_COUNT	1019610
+SHUFFLE	COPY_MAP_DATA	239625000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	831968
+SHUFFLE	COMPRESS_BYTE_COUNT	831972
+SHUFFLE	COPY_MAP_DATA	16409000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	820448
+SHUFFLE	COMPRESS_BYTE_COUNT	820452
+SHUFFLE	COPY_MAP_DATA	14899000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	818930
+SHUFFLE	COMPRESS_BYTE_COUNT	818934
+SHUFFLE	COPY_MAP_DATA	26448000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	803359
+SHUFFLE	COMPRESS_BYTE_COUNT	803363
+SHUFFLE	COPY_MAP_DATA	477520000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1174970
+SHUFFLE	COMPRESS_BYTE_COUNT	1174974
+SHUFFLE	COPY_MAP_DATA	154777000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	829358
+SHUFFLE	COMPRESS_BYTE_COUNT	829362
+SHUFFLE	COPY_MAP_DATA	34840000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	759750
+SHUFFLE	COMPRESS_BYTE_COUNT	759754
+SHUFFLE	COPY_MAP_DATA	68876000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	793675
+SHUFFLE	COMPRESS_BYTE_COUNT	793679
+SHUFFLE	COPY_MAP_DATA	59290000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	871956
+SHUFFLE	COMPRESS_BYTE_COUNT	871960
+SHUFFLE	COPY_MAP_DATA	19691000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	840912
+SHUFFLE	COMPRESS_BYTE_COUNT	840916
+SHUFFLE	COPY_MAP_DATA	47056000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	978775
+SHUFFLE	COMPRESS_BYTE_COUNT	978779
+SHUFFLE	COPY_MAP_DATA	235013000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	871836
+SHUFFLE	COMPRESS_BYTE_COUNT	871840
+SHUFFLE	COPY_MAP_DATA	11683000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	819191
+SHUFFLE	COMPRESS_BYTE_COUNT	819195
+SHUFFLE	COPY_MAP_DATA	73472000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	814464
+SHUFFLE	COMPRESS_BYTE_COUNT	814468
+SHUFFLE	COPY_MAP_DATA	6608154000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	804762
+SHUFFLE	COMPRESS_BYTE_COUNT	804766
+SHUFFLE	COPY_MAP_DATA	371154000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	958786
+SHUFFLE	COMPRESS_BYTE_COUNT	958790
+SHUFFLE	COPY_MAP_DATA	108485000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	818552
+SHUFFLE	COMPRESS_BYTE_COUNT	818556
+SHUFFLE	COPY_MAP_DATA	95024000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	709940
+SHUFFLE	COMPRESS_BYTE_COUNT	709944
+SHUFFLE	COPY_MAP_DATA	27004000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	793867
+SHUFFLE	COMPRESS_BYTE_COUNT	793871
+SHUFFLE	COPY_MAP_DATA	61598000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	820227
+SHUFFLE	COMPRESS_BYTE_COUNT	820231
+SHUFFLE	COPY_MAP_DATA	26866000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	812860
+SHUFFLE	COMPRESS_BYTE_COUNT	812864
+SHUFFLE	COPY_MAP_DATA	83925000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	800487
+SHUFFLE	COMPRESS_BYTE_COUNT	800491
+SHUFFLE	COPY_MAP_DATA	34319000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	803628
+SHUFFLE	COMPRESS_BYTE_COUNT	803632
+SHUFFLE	COPY_MAP_DATA	139097000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	860262
+SHUFFLE	COMPRESS_BYTE_COUNT	860266
+SHUFFLE	COPY_MAP_DATA	63815000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	969408
+SHUFFLE	COMPRESS_BYTE_COUNT	969412
+SHUFFLE	COPY_MAP_DATA	31988000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	752848
+SHUFFLE	COMPRESS_BYTE_COUNT	752852
+SHUFFLE	COPY_MAP_DATA	15783000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	733565
+SHUFFLE	COMPRESS_BYTE_COUNT	733569
+SHUFFLE	COPY_MAP_DATA	11169000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	857519
+SHUFFLE	COMPRESS_BYTE_COUNT	857523
+SHUFFLE	COPY_MAP_DATA	92664000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	735668
+SHUFFLE	COMPRESS_BYTE_COUNT	735672
+SHUFFLE	COPY_MAP_DATA	24441000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	784710
+SHUFFLE	COMPRESS_BYTE_COUNT	784714
+SHUFFLE	COPY_MAP_DATA	11144000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	782865
+SHUFFLE	COMPRESS_BYTE_COUNT	782869
+SHUFFLE	COPY_MAP_DATA	15966000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	758110
+SHUFFLE	COMPRESS_BYTE_COUNT	758114
+SHUFFLE	COPY_MAP_DATA	13858000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	732733
+SHUFFLE	COMPRESS_BYTE_COUNT	732737
+SHUFFLE	COPY_MAP_DATA	16791000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	796307
+SHUFFLE	COMPRESS_BYTE_COUNT	796311
+SHUFFLE	COPY_MAP_DATA	770590000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	785338
+SHUFFLE	COMPRESS_BYTE_COUNT	785342
+SHUFFLE	COPY_MAP_DATA	53654000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	754692
+SHUFFLE	COMPRESS_BYTE_COUNT	754696
+SHUFFLE	COPY_MAP_DATA	62217000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	802079
+SHUFFLE	COMPRESS_BYTE_COUNT	802083
+SHUFFLE	COPY_MAP_DATA	7096000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	776508
+SHUFFLE	COMPRESS_BYTE_COUNT	776512
+SHUFFLE	COPY_MAP_DATA	67001000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	943903
+SHUFFLE	COMPRESS_BYTE_COUNT	943907
+SHUFFLE	COPY_MAP_DATA	40759000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1162352
+SHUFFLE	COMPRESS_BYTE_COUNT	1162356
+SHUFFLE	COPY_MAP_DATA	67019000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	929956
+SHUFFLE	COMPRESS_BYTE_COUNT	929960
+SHUFFLE	COPY_MAP_DATA	24445000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	774489
+SHUFFLE	COMPRESS_BYTE_COUNT	774493
+SHUFFLE	COPY_MAP_DATA	29078000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	766826
+SHUFFLE	COMPRESS_BYTE_COUNT	766830
+SHUFFLE	COPY_MAP_DATA	549587000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	744437
+SHUFFLE	COMPRESS_BYTE_COUNT	744441
+SHUFFLE	COPY_MAP_DATA	164887000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	866384
+SHUFFLE	COMPRESS_BYTE_COUNT	866388
+SHUFFLE	COPY_MAP_DATA	159782000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	739233
+SHUFFLE	COMPRESS_BYTE_COUNT	739237
+SHUFFLE	COPY_MAP_DATA	80737000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	716158
+SHUFFLE	COMPRESS_BYTE_COUNT	716162
+SHUFFLE	COPY_MAP_DATA	920043000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1035639
+SHUFFLE	COMPRESS_BYTE_COUNT	1035643
+SHUFFLE	COPY_MAP_DATA	10545000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	731513
+SHUFFLE	COMPRESS_BYTE_COUNT	731517
+SHUFFLE	COPY_MAP_DATA	286556000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	829818
+SHUFFLE	COMPRESS_BYTE_COUNT	829822
+SHUFFLE	COPY_MAP_DATA	22466000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	727634
+SHUFFLE	COMPRESS_BYTE_COUNT	727638
+SHUFFLE	COPY_MAP_DATA	102987000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	762784
+SHUFFLE	COMPRESS_BYTE_COUNT	762788
+SHUFFLE	COPY_MAP_DATA	18744000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	828229
+SHUFFLE	COMPRESS_BYTE_COUNT	828233
+SHUFFLE	COPY_MAP_DATA	26097000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	783920
+SHUFFLE	COMPRESS_BYTE_COUNT	783924
+SHUFFLE	COPY_MAP_DATA	37631000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	801115
+SHUFFLE	COMPRESS_BYTE_COUNT	801119
+SHUFFLE	COPY_MAP_DATA	1325462000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	765108
+SHUFFLE	COMPRESS_BYTE_COUNT	765112
+SHUFFLE	COPY_MAP_DATA	16575000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	750471
+SHUFFLE	COMPRESS_BYTE_COUNT	750475
+SHUFFLE	COPY_MAP_DATA	15089000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	914800
+SHUFFLE	COMPRESS_BYTE_COUNT	914804
+SHUFFLE	COPY_MAP_DATA	2441487000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	801350
+SHUFFLE	COMPRESS_BYTE_COUNT	801354
+SHUFFLE	COPY_MAP_DATA	50547000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	760767
+SHUFFLE	COMPRESS_BYTE_COUNT	760771
+SHUFFLE	COPY_MAP_DATA	56649000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	798112
+SHUFFLE	COMPRESS_BYTE_COUNT	798116
+SHUFFLE	COPY_MAP_DATA	17517000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	751024
+SHUFFLE	COMPRESS_BYTE_COUNT	751028
+SHUFFLE	COPY_MAP_DATA	576494000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	846788
+SHUFFLE	COMPRESS_BYTE_COUNT	846792
+SHUFFLE	COPY_MAP_DATA	6965000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	754013
+SHUFFLE	COMPRESS_BYTE_COUNT	754017
+SHUFFLE	COPY_MAP_DATA	49153000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	864847
+SHUFFLE	COMPRESS_BYTE_COUNT	864851
+SHUFFLE	COPY_MAP_DATA	119034000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	755667
+SHUFFLE	COMPRESS_BYTE_COUNT	755671
+SHUFFLE	COPY_MAP_DATA	14508000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	706260
+SHUFFLE	COMPRESS_BYTE_COUNT	706264
+SHUFFLE	COPY_MAP_DATA	14003000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	765773
+SHUFFLE	COMPRESS_BYTE_COUNT	765777
+SHUFFLE	COPY_MAP_DATA	73561000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	787528
+SHUFFLE	COMPRESS_BYTE_COUNT	787532
+SHUFFLE	COPY_MAP_DATA	16442000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	810219
+SHUFFLE	COMPRESS_BYTE_COUNT	810223
+SHUFFLE	COPY_MAP_DATA	17631000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	790793
+SHUFFLE	COMPRESS_BYTE_COUNT	790797
+SHUFFLE	COPY_MAP_DATA	6701801000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	853103
+SHUFFLE	COMPRESS_BYTE_COUNT	853107
+SHUFFLE	COPY_MAP_DATA	115604000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	704685
+SHUFFLE	COMPRESS_BYTE_COUNT	704689
+SHUFFLE	COPY_MAP_DATA	72109000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	987348
+SHUFFLE	COMPRESS_BYTE_COUNT	987352
+SHUFFLE	COPY_MAP_DATA	952069000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	664748
+SHUFFLE	COMPRESS_BYTE_COUNT	664752
+SHUFFLE	COPY_MAP_DATA	40109000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	808415
+SHUFFLE	COMPRESS_BYTE_COUNT	808419
+SHUFFLE	COPY_MAP_DATA	109010000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	740683
+SHUFFLE	COMPRESS_BYTE_COUNT	740687
+SHUFFLE	COPY_MAP_DATA	34160000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	781315
+SHUFFLE	COMPRESS_BYTE_COUNT	781319
+SHUFFLE	COPY_MAP_DATA	14827000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	749398
+SHUFFLE	COMPRESS_BYTE_COUNT	749402
+SHUFFLE	COPY_MAP_DATA	13705000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	727277
+SHUFFLE	COMPRESS_BYTE_COUNT	727281
+SHUFFLE	COPY_MAP_DATA	1298511848
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	706260
+SHUFFLE	COMPRESS_BYTE_COUNT	706264
+SHUFFLE	COPY_MAP_DATA	26848000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	810113
+SHUFFLE	COMPRESS_BYTE_COUNT	810117
+SHUFFLE	COPY_MAP_DATA	17328000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	787226
+SHUFFLE	COMPRESS_BYTE_COUNT	787230
+SHUFFLE	COPY_MAP_DATA	55698000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	801004
+SHUFFLE	COMPRESS_BYTE_COUNT	801008
+SHUFFLE	COPY_MAP_DATA	6642000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	669687
+SHUFFLE	COMPRESS_BYTE_COUNT	669691
+SHUFFLE	COPY_MAP_DATA	5993000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	769558
+SHUFFLE	COMPRESS_BYTE_COUNT	769562
+SHUFFLE	COPY_MAP_DATA	17473000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	738683
+SHUFFLE	COMPRESS_BYTE_COUNT	738687
+SHUFFLE	COPY_MAP_DATA	32385000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	871952
+SHUFFLE	COMPRESS_BYTE_COUNT	871956
+SHUFFLE	COPY_MAP_DATA	20226000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	805843
+SHUFFLE	COMPRESS_BYTE_COUNT	805847
+SHUFFLE	COPY_MAP_DATA	19321000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1125870
+SHUFFLE	COMPRESS_BYTE_COUNT	1125874
+SHUFFLE	COPY_MAP_DATA	19008000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	769459
+SHUFFLE	COMPRESS_BYTE_COUNT	769463
+SHUFFLE	COPY_MAP_DATA	18523000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	785066
+SHUFFLE	COMPRESS_BYTE_COUNT	785070
+SHUFFLE	COPY_MAP_DATA	100480000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	809901
+SHUFFLE	COMPRESS_BYTE_COUNT	809905
+SHUFFLE	COPY_MAP_DATA	17656000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	700772
+SHUFFLE	COMPRESS_BYTE_COUNT	700776
+SHUFFLE	COPY_MAP_DATA	501100000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	829127
+SHUFFLE	COMPRESS_BYTE_COUNT	829131
+SHUFFLE	COPY_MAP_DATA	27521000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	621572
+SHUFFLE	COMPRESS_BYTE_COUNT	621576
+SHUFFLE	COPY_MAP_DATA	184878000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	808286
+SHUFFLE	COMPRESS_BYTE_COUNT	808290
+SHUFFLE	COPY_MAP_DATA	15510000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	783195
+SHUFFLE	COMPRESS_BYTE_COUNT	783199
+SHUFFLE	COPY_MAP_DATA	744027000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1028623
+SHUFFLE	COMPRESS_BYTE_COUNT	1028627
+SHUFFLE	COPY_MAP_DATA	19186000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	945640
+SHUFFLE	COMPRESS_BYTE_COUNT	945644
+SHUFFLE	COPY_MAP_DATA	16521000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	766700
+SHUFFLE	COMPRESS_BYTE_COUNT	766704
+SHUFFLE	COPY_MAP_DATA	14920000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	746145
+SHUFFLE	COMPRESS_BYTE_COUNT	746149
+SHUFFLE	COPY_MAP_DATA	14262000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	836259
+SHUFFLE	COMPRESS_BYTE_COUNT	836263
+SHUFFLE	COPY_MAP_DATA	15713000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1413233
+SHUFFLE	COMPRESS_BYTE_COUNT	1413237
+SHUFFLE	COPY_MAP_DATA	43458000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	752325
+SHUFFLE	COMPRESS_BYTE_COUNT	752329
+SHUFFLE	COPY_MAP_DATA	35363000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	134441402000
+MERGE	READ_WRITE	129867345000
+MERGE	READ_WRITE_COUNT	2
+MERGE	COMBINE	0
+MERGE	WRITE	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	14953048000
+SORT	READ_WRITE	14724050000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	146756712
+REDUCE	SETUP	330000
+REDUCE	SETUP_MEM	146756712
+REDUCE	CLEANUP	51000
+REDUCE	CLEANUP_MEM	110357568
+REDUCE	TOTAL_RUN	138087850152
+REDUCE	READ	15477561000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	113924941152
+REDUCE	WRITE	30481955152
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	68782462
+REDUCE	VALUE_BYTE_COUNT	63186406
+REDUCE	REDUCE_MEM	110357568
+REDUCE	WRITE	19074000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	680520150436
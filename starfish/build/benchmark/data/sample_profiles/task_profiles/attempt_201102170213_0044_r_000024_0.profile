@@ -0,0 +1,1333 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1951734
+SHUFFLE	COMPRESS_BYTE_COUNT	1951738
+SHUFFLE	COPY_MAP_DATA	280461000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1959898
+SHUFFLE	COMPRESS_BYTE_COUNT	1959902
+SHUFFLE	COPY_MAP_DATA	28679000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1725343
+SHUFFLE	COMPRESS_BYTE_COUNT	1725347
+SHUFFLE	COPY_MAP_DATA	104357000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1848177
+SHUFFLE	COMPRESS_BYTE_COUNT	1848181
+SHUFFLE	COPY_MAP_DATA	15697000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2181991
+SHUFFLE	COMPRESS_BYTE_COUNT	2181995
+SHUFFLE	COPY_MAP_DATA	130060000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1790913
+SHUFFLE	COMPRESS_BYTE_COUNT	1790917
+SHUFFLE	COPY_MAP_DATA	80325000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1800056
+SHUFFLE	COMPRESS_BYTE_COUNT	1800060
+SHUFFLE	COPY_MAP_DATA	136365000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1906334
+SHUFFLE	COMPRESS_BYTE_COUNT	1906338
+SHUFFLE	COPY_MAP_DATA	29342000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1934934
+SHUFFLE	COMPRESS_BYTE_COUNT	1934938
+SHUFFLE	COPY_MAP_DATA	29420000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1917662
+SHUFFLE	COMPRESS_BYTE_COUNT	1917666
+SHUFFLE	COPY_MAP_DATA	28310000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1930856
+SHUFFLE	COMPRESS_BYTE_COUNT	1930860
+SHUFFLE	COPY_MAP_DATA	42897000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1930251
+SHUFFLE	COMPRESS_BYTE_COUNT	1930255
+SHUFFLE	COPY_MAP_DATA	30472000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1968371
+SHUFFLE	COMPRESS_BYTE_COUNT	1968375
+SHUFFLE	COPY_MAP_DATA	112868000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1991489
+SHUFFLE	COMPRESS_BYTE_COUNT	1991493
+SHUFFLE	COPY_MAP_DATA	75890000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2044844
+SHUFFLE	COMPRESS_BYTE_COUNT	2044848
+SHUFFLE	COPY_MAP_DATA	79932000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1893984
+SHUFFLE	COMPRESS_BYTE_COUNT	1893988
+SHUFFLE	COPY_MAP_DATA	21812000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1888743
+SHUFFLE	COMPRESS_BYTE_COUNT	1888747
+SHUFFLE	COPY_MAP_DATA	83523000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2004051
+SHUFFLE	COMPRESS_BYTE_COUNT	2004055
+SHUFFLE	COPY_MAP_DATA	23234000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2019907
+SHUFFLE	COMPRESS_BYTE_COUNT	2019911
+SHUFFLE	COPY_MAP_DATA	86749000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1935831
+SHUFFLE	COMPRESS_BYTE_COUNT	1935835
+SHUFFLE	COPY_MAP_DATA	22905000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1943370
+SHUFFLE	COMPRESS_BYTE_COUNT	1943374
+SHUFFLE	COPY_MAP_DATA	21766000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1839377
+SHUFFLE	COMPRESS_BYTE_COUNT	1839381
+SHUFFLE	COPY_MAP_DATA	21292000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2002252
+SHUFFLE	COMPRESS_BYTE_COUNT	2002256
+SHUFFLE	COPY_MAP_DATA	17186000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1960774
+SHUFFLE	COMPRESS_BYTE_COUNT	1960778
+SHUFFLE	COPY_MAP_DATA	42205000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2040814
+SHUFFLE	COMPRESS_BYTE_COUNT	2040818
+SHUFFLE	COPY_MAP_DATA	121409000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1881965
+SHUFFLE	COMPRESS_BYTE_COUNT	1881969
+SHUFFLE	COPY_MAP_DATA	49698000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2012131
+SHUFFLE	COMPRESS_BYTE_COUNT	2012135
+SHUFFLE	COPY_MAP_DATA	618995000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2157973
+SHUFFLE	COMPRESS_BYTE_COUNT	2157977
+SHUFFLE	COPY_MAP_DATA	1380516000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1988277
+SHUFFLE	COMPRESS_BYTE_COUNT	1988281
+SHUFFLE	COPY_MAP_DATA	417244000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2087300
+SHUFFLE	COMPRESS_BYTE_COUNT	2087304
+SHUFFLE	COPY_MAP_DATA	210828000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1868757
+SHUFFLE	COMPRESS_BYTE_COUNT	1868761
+SHUFFLE	COPY_MAP_DATA	852311000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1983284
+SHUFFLE	COMPRESS_BYTE_COUNT	1983288
+SHUFFLE	COPY_MAP_DATA	5226811000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1831730
+SHUFFLE	COMPRESS_BYTE_COUNT	1831734
+SHUFFLE	COPY_MAP_DATA	275128000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1917078
+SHUFFLE	COMPRESS_BYTE_COUNT	1917082
+SHUFFLE	COPY_MAP_DATA	3405319000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1784792
+SHUFFLE	COMPRESS_BYTE_COUNT	1784796
+SHUFFLE	COPY_MAP_DATA	301897000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1883490
+SHUFFLE	COMPRESS_BYTE_COUNT	1883494
+SHUFFLE	COPY_MAP_DATA	27200000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2004737
+SHUFFLE	COMPRESS_BYTE_COUNT	2004741
+SHUFFLE	COPY_MAP_DATA	443237000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1895270
+SHUFFLE	COMPRESS_BYTE_COUNT	1895274
+SHUFFLE	COPY_MAP_DATA	18267000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1953401
+SHUFFLE	COMPRESS_BYTE_COUNT	1953405
+SHUFFLE	COPY_MAP_DATA	188621000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1669788
+SHUFFLE	COMPRESS_BYTE_COUNT	1669792
+SHUFFLE	COPY_MAP_DATA	59088000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1857045
+SHUFFLE	COMPRESS_BYTE_COUNT	1857049
+SHUFFLE	COPY_MAP_DATA	248682000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1863412
+SHUFFLE	COMPRESS_BYTE_COUNT	1863416
+SHUFFLE	COPY_MAP_DATA	289202000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1873009
+SHUFFLE	COMPRESS_BYTE_COUNT	1873013
+SHUFFLE	COPY_MAP_DATA	459490000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1924470
+SHUFFLE	COMPRESS_BYTE_COUNT	1924474
+SHUFFLE	COPY_MAP_DATA	34557000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1645771
+SHUFFLE	COMPRESS_BYTE_COUNT	1645775
+SHUFFLE	COPY_MAP_DATA	23189000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1831507
+SHUFFLE	COMPRESS_BYTE_COUNT	1831511
+SHUFFLE	COPY_MAP_DATA	33730000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1829074
+SHUFFLE	COMPRESS_BYTE_COUNT	1829078
+SHUFFLE	COPY_MAP_DATA	941905000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1951443
+SHUFFLE	COMPRESS_BYTE_COUNT	1951447
+SHUFFLE	COPY_MAP_DATA	892854000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1722224
+SHUFFLE	COMPRESS_BYTE_COUNT	1722228
+SHUFFLE	COPY_MAP_DATA	378273000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1757497
+SHUFFLE	COMPRESS_BYTE_COUNT	1757501
+SHUFFLE	COPY_MAP_DATA	35081000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1566631
+SHUFFLE	COMPRESS_BYTE_COUNT	1566635
+SHUFFLE	COPY_MAP_DATA	34192000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1808224
+SHUFFLE	COMPRESS_BYTE_COUNT	1808228
+SHUFFLE	COPY_MAP_DATA	205369000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1773996
+SHUFFLE	COMPRESS_BYTE_COUNT	1774000
+SHUFFLE	COPY_MAP_DATA	25020000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1692622
+SHUFFLE	COMPRESS_BYTE_COUNT	1692626
+SHUFFLE	COPY_MAP_DATA	26488000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1687833
+SHUFFLE	COMPRESS_BYTE_COUNT	1687837
+SHUFFLE	COPY_MAP_DATA	25706000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1877030
+SHUFFLE	COMPRESS_BYTE_COUNT	1877034
+SHUFFLE	COPY_MAP_DATA	37001000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1838651
+SHUFFLE	COMPRESS_BYTE_COUNT	1838655
+SHUFFLE	COPY_MAP_DATA	1265052000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1912524
+SHUFFLE	COMPRESS_BYTE_COUNT	1912528
+SHUFFLE	COPY_MAP_DATA	614559000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1753511
+SHUFFLE	COMPRESS_BYTE_COUNT	1753515
+SHUFFLE	COPY_MAP_DATA	30924000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1725405
+SHUFFLE	COMPRESS_BYTE_COUNT	1725409
+SHUFFLE	COPY_MAP_DATA	738121000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1688292
+SHUFFLE	COMPRESS_BYTE_COUNT	1688296
+SHUFFLE	COPY_MAP_DATA	26830000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1585318
+SHUFFLE	COMPRESS_BYTE_COUNT	1585322
+SHUFFLE	COPY_MAP_DATA	24216000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1877621
+SHUFFLE	COMPRESS_BYTE_COUNT	1877625
+SHUFFLE	COPY_MAP_DATA	667062000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1537902
+SHUFFLE	COMPRESS_BYTE_COUNT	1537906
+SHUFFLE	COPY_MAP_DATA	537389000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1572577
+SHUFFLE	COMPRESS_BYTE_COUNT	1572581
+SHUFFLE	COPY_MAP_DATA	14145000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1581420
+SHUFFLE	COMPRESS_BYTE_COUNT	1581424
+SHUFFLE	COPY_MAP_DATA	37000000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1884664
+SHUFFLE	COMPRESS_BYTE_COUNT	1884668
+SHUFFLE	COPY_MAP_DATA	57351000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1656549
+SHUFFLE	COMPRESS_BYTE_COUNT	1656553
+SHUFFLE	COPY_MAP_DATA	493308000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1755201
+SHUFFLE	COMPRESS_BYTE_COUNT	1755205
+SHUFFLE	COPY_MAP_DATA	912471000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1622175
+SHUFFLE	COMPRESS_BYTE_COUNT	1622179
+SHUFFLE	COPY_MAP_DATA	406222000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1605811
+SHUFFLE	COMPRESS_BYTE_COUNT	1605815
+SHUFFLE	COPY_MAP_DATA	25702000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1678068
+SHUFFLE	COMPRESS_BYTE_COUNT	1678072
+SHUFFLE	COPY_MAP_DATA	28002000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1595326
+SHUFFLE	COMPRESS_BYTE_COUNT	1595330
+SHUFFLE	COPY_MAP_DATA	35917000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1588935
+SHUFFLE	COMPRESS_BYTE_COUNT	1588939
+SHUFFLE	COPY_MAP_DATA	29547000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1843862
+SHUFFLE	COMPRESS_BYTE_COUNT	1843866
+SHUFFLE	COPY_MAP_DATA	26536000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1657171
+SHUFFLE	COMPRESS_BYTE_COUNT	1657175
+SHUFFLE	COPY_MAP_DATA	8309108000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1502806
+SHUFFLE	COMPRESS_BYTE_COUNT	1502810
+SHUFFLE	COPY_MAP_DATA	51862000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1820914
+SHUFFLE	COMPRESS_BYTE_COUNT	1820918
+SHUFFLE	COPY_MAP_DATA	53948000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1608206
+SHUFFLE	COMPRESS_BYTE_COUNT	1608210
+SHUFFLE	COPY_MAP_DATA	23992000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1672636
+SHUFFLE	COMPRESS_BYTE_COUNT	1672640
+SHUFFLE	COPY_MAP_DATA	814862000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1644901
+SHUFFLE	COMPRESS_BYTE_COUNT	1644905
+SHUFFLE	COPY_MAP_DATA	207788000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1773919
+SHUFFLE	COMPRESS_BYTE_COUNT	1773923
+SHUFFLE	COPY_MAP_DATA	35303000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1520227
+SHUFFLE	COMPRESS_BYTE_COUNT	1520231
+SHUFFLE	COPY_MAP_DATA	9778686000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1637906
+SHUFFLE	COMPRESS_BYTE_COUNT	1637910
+SHUFFLE	COPY_MAP_DATA	1848641000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1544860
+SHUFFLE	COMPRESS_BYTE_COUNT	1544864
+SHUFFLE	COPY_MAP_DATA	40248000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1899813
+SHUFFLE	COMPRESS_BYTE_COUNT	1899817
+SHUFFLE	COPY_MAP_DATA	85749000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1435451
+SHUFFLE	COMPRESS_BYTE_COUNT	1435455
+SHUFFLE	COPY_MAP_DATA	2649616000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1569140
+SHUFFLE	COMPRESS_BYTE_COUNT	1569144
+SHUFFLE	COPY_MAP_DATA	58202000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	833098
+SHUFFLE	COMPRESS_BYTE_COUNT	833102
+SHUFFLE	COPY_MAP_DATA	450149000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1825407
+SHUFFLE	COMPRESS_BYTE_COUNT	1825411
+SHUFFLE	COPY_MAP_DATA	206155000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1532044
+SHUFFLE	COMPRESS_BYTE_COUNT	1532048
+SHUFFLE	COPY_MAP_DATA	3574081000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	934254
+SHUFFLE	COMPRESS_BYTE_COUNT	934258
+SHUFFLE	COPY_MAP_DATA	16079000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1638691
+SHUFFLE	COMPRESS_BYTE_COUNT	1638695
+SHUFFLE	COPY_MAP_DATA	33752000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1473055
+SHUFFLE	COMPRESS_BYTE_COUNT	1473059
+SHUFFLE	COPY_MAP_DATA	135838000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	892247
+SHUFFLE	COMPRESS_BYTE_COUNT	892251
+SHUFFLE	COPY_MAP_DATA	64128000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1809773
+SHUFFLE	COMPRESS_BYTE_COUNT	1809777
+SHUFFLE	COPY_MAP_DATA	26365000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	856661
+SHUFFLE	COMPRESS_BYTE_COUNT	856665
+SHUFFLE	COPY_MAP_DATA	31071000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1020754
+SHUFFLE	COMPRESS_BYTE_COUNT	1020758
+SHUFFLE	COPY_MAP_DATA	18294000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1489891
+SHUFFLE	COMPRESS_BYTE_COUNT	1489895
+SHUFFLE	COPY_MAP_DATA	21911000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1012072
+SHUFFLE	COMPRESS_BYTE_COUNT	1012076
+SHUFFLE	COPY_MAP_DATA	12625000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1432480
+SHUFFLE	COMPRESS_BYTE_COUNT	1432484
+SHUFFLE	COPY_MAP_DATA	24028000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1048490
+SHUFFLE	COMPRESS_BYTE_COUNT	1048494
+SHUFFLE	COPY_MAP_DATA	127726000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1682486
+SHUFFLE	COMPRESS_BYTE_COUNT	1682490
+SHUFFLE	COPY_MAP_DATA	15306000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1723429
+SHUFFLE	COMPRESS_BYTE_COUNT	1723433
+SHUFFLE	COPY_MAP_DATA	194352000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1654208
+SHUFFLE	COMPRESS_BYTE_COUNT	1654212
+SHUFFLE	COPY_MAP_DATA	3636105000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1763655
+SHUFFLE	COMPRESS_BYTE_COUNT	1763659
+SHUFFLE	COPY_MAP_DATA	70425000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1084434
+SHUFFLE	COMPRESS_BYTE_COUNT	1084438
+SHUFFLE	COPY_MAP_DATA	17216000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1760795
+SHUFFLE	COMPRESS_BYTE_COUNT	1760799
+SHUFFLE	COPY_MAP_DATA	24164000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	960412
+SHUFFLE	COMPRESS_BYTE_COUNT	960416
+SHUFFLE	COPY_MAP_DATA	16400000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1648262
+SHUFFLE	COMPRESS_BYTE_COUNT	1648266
+SHUFFLE	COPY_MAP_DATA	23225000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1013300
+SHUFFLE	COMPRESS_BYTE_COUNT	1013304
+SHUFFLE	COPY_MAP_DATA	16820000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1481482
+SHUFFLE	COMPRESS_BYTE_COUNT	1481486
+SHUFFLE	COPY_MAP_DATA	41701000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1571539
+SHUFFLE	COMPRESS_BYTE_COUNT	1571543
+SHUFFLE	COPY_MAP_DATA	22598000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	974979
+SHUFFLE	COMPRESS_BYTE_COUNT	974983
+SHUFFLE	COPY_MAP_DATA	843746000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2154246
+SHUFFLE	COMPRESS_BYTE_COUNT	2154250
+SHUFFLE	COPY_MAP_DATA	150571000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1632159
+SHUFFLE	COMPRESS_BYTE_COUNT	1632163
+SHUFFLE	COPY_MAP_DATA	24455000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1028744
+SHUFFLE	COMPRESS_BYTE_COUNT	1028748
+SHUFFLE	COPY_MAP_DATA	64337000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	966250
+SHUFFLE	COMPRESS_BYTE_COUNT	966254
+SHUFFLE	COPY_MAP_DATA	17593000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1622944
+SHUFFLE	COMPRESS_BYTE_COUNT	1622948
+SHUFFLE	COPY_MAP_DATA	749876000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1631822
+SHUFFLE	COMPRESS_BYTE_COUNT	1631826
+SHUFFLE	COPY_MAP_DATA	585846000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	979264
+SHUFFLE	COMPRESS_BYTE_COUNT	979268
+SHUFFLE	COPY_MAP_DATA	618358000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	965760
+SHUFFLE	COMPRESS_BYTE_COUNT	965764
+SHUFFLE	COPY_MAP_DATA	2459037000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	989475
+SHUFFLE	COMPRESS_BYTE_COUNT	989479
+SHUFFLE	COPY_MAP_DATA	531314000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1033330
+SHUFFLE	COMPRESS_BYTE_COUNT	1033334
+SHUFFLE	COPY_MAP_DATA	105094000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	873232
+SHUFFLE	COMPRESS_BYTE_COUNT	873236
+SHUFFLE	COPY_MAP_DATA	23278000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1038293
+SHUFFLE	COMPRESS_BYTE_COUNT	1038297
+SHUFFLE	COPY_MAP_DATA	37848000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	929293
+SHUFFLE	COMPRESS_BYTE_COUNT	929297
+SHUFFLE	COPY_MAP_DATA	23400000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	987435
+SHUFFLE	COMPRESS_BYTE_COUNT	987439
+SHUFFLE	COPY_MAP_DATA	641458000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	971419
+SHUFFLE	COMPRESS_BYTE_COUNT	971423
+SHUFFLE	COPY_MAP_DATA	18929000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	986460
+SHUFFLE	COMPRESS_BYTE_COUNT	986464
+SHUFFLE	COPY_MAP_DATA	15327000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	977043
+SHUFFLE	COMPRESS_BYTE_COUNT	977047
+SHUFFLE	COPY_MAP_DATA	84463000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	965276
+SHUFFLE	COMPRESS_BYTE_COUNT	965280
+SHUFFLE	COPY_MAP_DATA	19017000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	922148
+SHUFFLE	COMPRESS_BYTE_COUNT	922152
+SHUFFLE	COPY_MAP_DATA	230679000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	983868
+SHUFFLE	COMPRESS_BYTE_COUNT	983872
+SHUFFLE	COPY_MAP_DATA	16078000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	998588
+SHUFFLE	COMPRESS_BYTE_COUNT	998592
+SHUFFLE	COPY_MAP_DATA	251485000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1020820
+SHUFFLE	COMPRESS_BYTE_COUNT	1020824
+SHUFFLE	COPY_MAP_DATA	468684000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	980938
+SHUFFLE	COMPRESS_BYTE_COUNT	980942
+SHUFFLE	COPY_MAP_DATA	205726000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	951414
+SHUFFLE	COMPRESS_BYTE_COUNT	951418
+SHUFFLE	COPY_MAP_DATA	14128000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1521516
+SHUFFLE	COMPRESS_BYTE_COUNT	1521520
+SHUFFLE	COPY_MAP_DATA	36526000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1002016
+SHUFFLE	COMPRESS_BYTE_COUNT	1002020
+SHUFFLE	COPY_MAP_DATA	279982000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1001080
+SHUFFLE	COMPRESS_BYTE_COUNT	1001084
+SHUFFLE	COPY_MAP_DATA	273333000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	999418
+SHUFFLE	COMPRESS_BYTE_COUNT	999422
+SHUFFLE	COPY_MAP_DATA	19110000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	977840
+SHUFFLE	COMPRESS_BYTE_COUNT	977844
+SHUFFLE	COPY_MAP_DATA	11150000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	971959
+SHUFFLE	COMPRESS_BYTE_COUNT	971963
+SHUFFLE	COPY_MAP_DATA	164064000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	991313
+SHUFFLE	COMPRESS_BYTE_COUNT	991317
+SHUFFLE	COPY_MAP_DATA	18863000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	984556
+SHUFFLE	COMPRESS_BYTE_COUNT	984560
+SHUFFLE	COPY_MAP_DATA	115125000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1124645
+SHUFFLE	COMPRESS_BYTE_COUNT	1124649
+SHUFFLE	COPY_MAP_DATA	27516000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	984317
+SHUFFLE	COMPRESS_BYTE_COUNT	984321
+SHUFFLE	COPY_MAP_DATA	3757934000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	970038
+SHUFFLE	COMPRESS_BYTE_COUNT	970042
+SHUFFLE	COPY_MAP_DATA	432452000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	974549
+SHUFFLE	COMPRESS_BYTE_COUNT	974553
+SHUFFLE	COPY_MAP_DATA	455940000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1088714
+SHUFFLE	COMPRESS_BYTE_COUNT	1088718
+SHUFFLE	COPY_MAP_DATA	1699147000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1180913
+SHUFFLE	COMPRESS_BYTE_COUNT	1180917
+SHUFFLE	COPY_MAP_DATA	19699000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	938883
+SHUFFLE	COMPRESS_BYTE_COUNT	938887
+SHUFFLE	COPY_MAP_DATA	20600000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	997497
+SHUFFLE	COMPRESS_BYTE_COUNT	997501
+SHUFFLE	COPY_MAP_DATA	258208000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	931530
+SHUFFLE	COMPRESS_BYTE_COUNT	931534
+SHUFFLE	COPY_MAP_DATA	15508000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1027705
+SHUFFLE	COMPRESS_BYTE_COUNT	1027709
+SHUFFLE	COPY_MAP_DATA	35002000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	951594
+SHUFFLE	COMPRESS_BYTE_COUNT	951598
+SHUFFLE	COPY_MAP_DATA	19848000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	976459
+SHUFFLE	COMPRESS_BYTE_COUNT	976463
+SHUFFLE	COPY_MAP_DATA	24412000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	960215
+SHUFFLE	COMPRESS_BYTE_COUNT	960219
+SHUFFLE	COPY_MAP_DATA	52003000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	962249
+SHUFFLE	COMPRESS_BYTE_COUNT	962253
+SHUFFLE	COPY_MAP_DATA	245114000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	986776
+SHUFFLE	COMPRESS_BYTE_COUNT	986780
+SHUFFLE	COPY_MAP_DATA	228265000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	979199
+SHUFFLE	COMPRESS_BYTE_COUNT	979203
+SHUFFLE	COPY_MAP_DATA	637493000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	965351
+SHUFFLE	COMPRESS_BYTE_COUNT	965355
+SHUFFLE	COPY_MAP_DATA	22320000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	935314
+SHUFFLE	COMPRESS_BYTE_COUNT	935318
+SHUFFLE	COPY_MAP_DATA	22129000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	959819
+SHUFFLE	COMPRESS_BYTE_COUNT	959823
+SHUFFLE	COPY_MAP_DATA	16919000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	995168
+SHUFFLE	COMPRESS_BYTE_COUNT	995172
+SHUFFLE	COPY_MAP_DATA	431647000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	966627
+SHUFFLE	COMPRESS_BYTE_COUNT	966631
+SHUFFLE	COPY_MAP_DATA	130089000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1007242
+SHUFFLE	COMPRESS_BYTE_COUNT	1007246
+SHUFFLE	COPY_MAP_DATA	234691000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	959121
+SHUFFLE	COMPRESS_BYTE_COUNT	959125
+SHUFFLE	COPY_MAP_DATA	16938000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	955737
+SHUFFLE	COMPRESS_BYTE_COUNT	955741
+SHUFFLE	COPY_MAP_DATA	17376000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	951277
+SHUFFLE	COMPRESS_BYTE_COUNT	951281
+SHUFFLE	COPY_MAP_DATA	19500000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	947535
+SHUFFLE	COMPRESS_BYTE_COUNT	947539
+SHUFFLE	COPY_MAP_DATA	18318000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	985550
+SHUFFLE	COMPRESS_BYTE_COUNT	985554
+SHUFFLE	COPY_MAP_DATA	20801000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	909296
+SHUFFLE	COMPRESS_BYTE_COUNT	909300
+SHUFFLE	COPY_MAP_DATA	24678000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	903922
+SHUFFLE	COMPRESS_BYTE_COUNT	903926
+SHUFFLE	COPY_MAP_DATA	9794000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	982060
+SHUFFLE	COMPRESS_BYTE_COUNT	982064
+SHUFFLE	COPY_MAP_DATA	193798000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	964837
+SHUFFLE	COMPRESS_BYTE_COUNT	964841
+SHUFFLE	COPY_MAP_DATA	411951000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	968418
+SHUFFLE	COMPRESS_BYTE_COUNT	968422
+SHUFFLE	COPY_MAP_DATA	22857000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	920327
+SHUFFLE	COMPRESS_BYTE_COUNT	920331
+SHUFFLE	COPY_MAP_DATA	40056000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	909512
+SHUFFLE	COMPRESS_BYTE_COUNT	909516
+SHUFFLE	COPY_MAP_DATA	998474000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	989196
+SHUFFLE	COMPRESS_BYTE_COUNT	989200
+SHUFFLE	COPY_MAP_DATA	3570933000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	957660
+SHUFFLE	COMPRESS_BYTE_COUNT	957664
+SHUFFLE	COPY_MAP_DATA	19602000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	971413
+SHUFFLE	COMPRESS_BYTE_COUNT	971417
+SHUFFLE	COPY_MAP_DATA	30144000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	962524
+SHUFFLE	COMPRESS_BYTE_COUNT	962528
+SHUFFLE	COPY_MAP_DATA	94721000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	881719
+SHUFFLE	COMPRESS_BYTE_COUNT	881723
+SHUFFLE	COPY_MAP_DATA	38869000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	876129
+SHUFFLE	COMPRESS_BYTE_COUNT	876133
+SHUFFLE	COPY_MAP_DATA	20391000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	883751
+SHUFFLE	COMPRESS_BYTE_COUNT	883755
+SHUFFLE	COPY_MAP_DATA	18521000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	896418
+SHUFFLE	COMPRESS_BYTE_COUNT	896422
+SHUFFLE	COPY_MAP_DATA	594586000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	944823
+SHUFFLE	COMPRESS_BYTE_COUNT	944827
+SHUFFLE	COPY_MAP_DATA	34552000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	965359
+SHUFFLE	COMPRESS_BYTE_COUNT	965363
+SHUFFLE	COPY_MAP_DATA	27955000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	965164
+SHUFFLE	COMPRESS_BYTE_COUNT	965168
+SHUFFLE	COPY_MAP_DATA	122898000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	879528
+SHUFFLE	COMPRESS_BYTE_COUNT	879532
+SHUFFLE	COPY_MAP_DATA	11008000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	887943
+SHUFFLE	COMPRESS_BYTE_COUNT	887947
+SHUFFLE	COPY_MAP_DATA	22435000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	928188
+SHUFFLE	COMPRESS_BYTE_COUNT	928192
+SHUFFLE	COPY_MAP_DATA	266767000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	957035
+SHUFFLE	COMPRESS_BYTE_COUNT	957039
+SHUFFLE	COPY_MAP_DATA	678438000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	945325
+SHUFFLE	COMPRESS_BYTE_COUNT	945329
+SHUFFLE	COPY_MAP_DATA	314615000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	875870
+SHUFFLE	COMPRESS_BYTE_COUNT	875874
+SHUFFLE	COPY_MAP_DATA	200563000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	971163
+SHUFFLE	COMPRESS_BYTE_COUNT	971167
+SHUFFLE	COPY_MAP_DATA	199667000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	910387
+SHUFFLE	COMPRESS_BYTE_COUNT	910391
+SHUFFLE	COPY_MAP_DATA	30574000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	975915
+SHUFFLE	COMPRESS_BYTE_COUNT	975919
+SHUFFLE	COPY_MAP_DATA	16605000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	884899
+SHUFFLE	COMPRESS_BYTE_COUNT	884903
+SHUFFLE	COPY_MAP_DATA	18947000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	924109
+SHUFFLE	COMPRESS_BYTE_COUNT	924113
+SHUFFLE	COPY_MAP_DATA	3582377000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	916566
+SHUFFLE	COMPRESS_BYTE_COUNT	916570
+SHUFFLE	COPY_MAP_DATA	1792328000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	912046
+SHUFFLE	COMPRESS_BYTE_COUNT	912050
+SHUFFLE	COPY_MAP_DATA	1537522000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	880007
+SHUFFLE	COMPRESS_BYTE_COUNT	880011
+SHUFFLE	COPY_MAP_DATA	729848000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	891660
+SHUFFLE	COMPRESS_BYTE_COUNT	891664
+SHUFFLE	COPY_MAP_DATA	6097732000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	882040
+SHUFFLE	COMPRESS_BYTE_COUNT	882044
+SHUFFLE	COPY_MAP_DATA	517134000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	849124
+SHUFFLE	COMPRESS_BYTE_COUNT	849128
+SHUFFLE	COPY_MAP_DATA	924046000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	898055
+SHUFFLE	COMPRESS_BYTE_COUNT	898059
+SHUFFLE	COPY_MAP_DATA	8687000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	845879
+SHUFFLE	COMPRESS_BYTE_COUNT	845883
+SHUFFLE	COPY_MAP_DATA	1554530000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	901117
+SHUFFLE	COMPRESS_BYTE_COUNT	901121
+SHUFFLE	COPY_MAP_DATA	35292000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	872748
+SHUFFLE	COMPRESS_BYTE_COUNT	872752
+SHUFFLE	COPY_MAP_DATA	2411934000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	778592
+SHUFFLE	COMPRESS_BYTE_COUNT	778596
+SHUFFLE	COPY_MAP_DATA	100087000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	824184
+SHUFFLE	COMPRESS_BYTE_COUNT	824188
+SHUFFLE	COPY_MAP_DATA	2101797000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	827820
+SHUFFLE	COMPRESS_BYTE_COUNT	827824
+SHUFFLE	COPY_MAP_DATA	17886000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	843126
+SHUFFLE	COMPRESS_BYTE_COUNT	843130
+SHUFFLE	COPY_MAP_DATA	112428000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	912115
+SHUFFLE	COMPRESS_BYTE_COUNT	912119
+SHUFFLE	COPY_MAP_DATA	37866000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	850757
+SHUFFLE	COMPRESS_BYTE_COUNT	850761
+SHUFFLE	COPY_MAP_DATA	14418000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	955491
+SHUFFLE	COMPRESS_BYTE_COUNT	955495
+SHUFFLE	COPY_MAP_DATA	28882000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	918328
+SHUFFLE	COMPRESS_BYTE_COUNT	918332
+SHUFFLE	COPY_MAP_DATA	19865000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	797823
+SHUFFLE	COMPRESS_BYTE_COUNT	797827
+SHUFFLE	COPY_MAP_DATA	18096000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	837327
+SHUFFLE	COMPRESS_BYTE_COUNT	837331
+SHUFFLE	COPY_MAP_DATA	619389000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	866528
+SHUFFLE	COMPRESS_BYTE_COUNT	866532
+SHUFFLE	COPY_MAP_DATA	423400000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	815687
+SHUFFLE	COMPRESS_BYTE_COUNT	815691
+SHUFFLE	COPY_MAP_DATA	13037188000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	853972
+SHUFFLE	COMPRESS_BYTE_COUNT	853976
+SHUFFLE	COPY_MAP_DATA	19723000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	986236
+SHUFFLE	COMPRESS_BYTE_COUNT	986240
+SHUFFLE	COPY_MAP_DATA	44111000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	790806
+SHUFFLE	COMPRESS_BYTE_COUNT	790810
+SHUFFLE	COPY_MAP_DATA	62362000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	907489
+SHUFFLE	COMPRESS_BYTE_COUNT	907493
+SHUFFLE	COPY_MAP_DATA	19581000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	814113
+SHUFFLE	COMPRESS_BYTE_COUNT	814117
+SHUFFLE	COPY_MAP_DATA	245296000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	877492
+SHUFFLE	COMPRESS_BYTE_COUNT	877496
+SHUFFLE	COPY_MAP_DATA	11265000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	732988
+SHUFFLE	COMPRESS_BYTE_COUNT	732992
+SHUFFLE	COPY_MAP_DATA	22670000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	982385
+SHUFFLE	COMPRESS_BYTE_COUNT	982389
+SHUFFLE	COPY_MAP_DATA	28036000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	887386
+SHUFFLE	COMPRESS_BYTE_COUNT	887390
+SHUFFLE	COPY_MAP_DATA	17537000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	859317
+SHUFFLE	COMPRESS_BYTE_COUNT	859321
+SHUFFLE	COPY_MAP_DATA	21418000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	847714
+SHUFFLE	COMPRESS_BYTE_COUNT	847718
+SHUFFLE	COPY_MAP_DATA	265859000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	842481
+SHUFFLE	COMPRESS_BYTE_COUNT	842485
+SHUFFLE	COPY_MAP_DATA	4141799000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1008796
+SHUFFLE	COMPRESS_BYTE_COUNT	1008800
+SHUFFLE	COPY_MAP_DATA	61660000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	867181
+SHUFFLE	COMPRESS_BYTE_COUNT	867185
+SHUFFLE	COPY_MAP_DATA	18293000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	838652
+SHUFFLE	COMPRESS_BYTE_COUNT	838656
+SHUFFLE	COPY_MAP_DATA	544106000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	794274
+SHUFFLE	COMPRESS_BYTE_COUNT	794278
+SHUFFLE	COPY_MAP_DATA	94018000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	808303
+SHUFFLE	COMPRESS_BYTE_COUNT	808307
+SHUFFLE	COPY_MAP_DATA	274718000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	863772
+SHUFFLE	COMPRESS_BYTE_COUNT	863776
+SHUFFLE	COPY_MAP_DATA	230275000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	861225
+SHUFFLE	COMPRESS_BYTE_COUNT	861229
+SHUFFLE	COPY_MAP_DATA	4103496000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	743589
+SHUFFLE	COMPRESS_BYTE_COUNT	743593
+SHUFFLE	COPY_MAP_DATA	583340000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	800449
+SHUFFLE	COMPRESS_BYTE_COUNT	800453
+SHUFFLE	COPY_MAP_DATA	32148000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	953838
+SHUFFLE	COMPRESS_BYTE_COUNT	953842
+SHUFFLE	COPY_MAP_DATA	26145000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	961599
+SHUFFLE	COMPRESS_BYTE_COUNT	961603
+SHUFFLE	COPY_MAP_DATA	18239000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	761933
+SHUFFLE	COMPRESS_BYTE_COUNT	761937
+SHUFFLE	COPY_MAP_DATA	8846000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	864431
+SHUFFLE	COMPRESS_BYTE_COUNT	864435
+SHUFFLE	COPY_MAP_DATA	352643000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	741823
+SHUFFLE	COMPRESS_BYTE_COUNT	741827
+SHUFFLE	COPY_MAP_DATA	159609000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	804094
+SHUFFLE	COMPRESS_BYTE_COUNT	804098
+SHUFFLE	COPY_MAP_DATA	18263000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	813934
+SHUFFLE	COMPRESS_BYTE_COUNT	813938
+SHUFFLE	COPY_MAP_DATA	402280000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	798334
+SHUFFLE	COMPRESS_BYTE_COUNT	798338
+SHUFFLE	COPY_MAP_DATA	17487000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	811513
+SHUFFLE	COMPRESS_BYTE_COUNT	811517
+SHUFFLE	COPY_MAP_DATA	143497000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	790645
+SHUFFLE	COMPRESS_BYTE_COUNT	790649
+SHUFFLE	COPY_MAP_DATA	148462000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	762539
+SHUFFLE	COMPRESS_BYTE_COUNT	762543
+SHUFFLE	COPY_MAP_DATA	16622000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	774219
+SHUFFLE	COMPRESS_BYTE_COUNT	774223
+SHUFFLE	COPY_MAP_DATA	14592000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	787750
+SHUFFLE	COMPRESS_BYTE_COUNT	787754
+SHUFFLE	COPY_MAP_DATA	20111000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	828443
+SHUFFLE	COMPRESS_BYTE_COUNT	828447
+SHUFFLE	COPY_MAP_DATA	90732000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	752566
+SHUFFLE	COMPRESS_BYTE_COUNT	752570
+SHUFFLE	COPY_MAP_DATA	30448000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	796081
+SHUFFLE	COMPRESS_BYTE_COUNT	796085
+SHUFFLE	COPY_MAP_DATA	8422000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	852927
+SHUFFLE	COMPRESS_BYTE_COUNT	852931
+SHUFFLE	COPY_MAP_DATA	663441000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1144635
+SHUFFLE	COMPRESS_BYTE_COUNT	1144639
+SHUFFLE	COPY_MAP_DATA	18058000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	945977
+SHUFFLE	COMPRESS_BYTE_COUNT	945981
+SHUFFLE	COPY_MAP_DATA	141051000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1046041
+SHUFFLE	COMPRESS_BYTE_COUNT	1046045
+SHUFFLE	COPY_MAP_DATA	525017000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	882970
+SHUFFLE	COMPRESS_BYTE_COUNT	882974
+SHUFFLE	COPY_MAP_DATA	38110000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	783088
+SHUFFLE	COMPRESS_BYTE_COUNT	783092
+SHUFFLE	COPY_MAP_DATA	505241000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	753343
+SHUFFLE	COMPRESS_BYTE_COUNT	753347
+SHUFFLE	COPY_MAP_DATA	26141000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	757575
+SHUFFLE	COMPRESS_BYTE_COUNT	757579
+SHUFFLE	COPY_MAP_DATA	1201291000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	766232
+SHUFFLE	COMPRESS_BYTE_COUNT	766236
+SHUFFLE	COPY_MAP_DATA	53133000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	776122
+SHUFFLE	COMPRESS_BYTE_COUNT	776126
+SHUFFLE	COPY_MAP_DATA	1809654000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	761066
+SHUFFLE	COMPRESS_BYTE_COUNT	761070
+SHUFFLE	COPY_MAP_DATA	16770000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	763332
+SHUFFLE	COMPRESS_BYTE_COUNT	763336
+SHUFFLE	COPY_MAP_DATA	108393000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	748407
+SHUFFLE	COMPRESS_BYTE_COUNT	748411
+SHUFFLE	COPY_MAP_DATA	1040468000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	821887
+SHUFFLE	COMPRESS_BYTE_COUNT	821891
+SHUFFLE	COPY_MAP_DATA	16451000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	766886
+SHUFFLE	COMPRESS_BYTE_COUNT	766890
+SHUFFLE	COPY_MAP_DATA	986407000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	823863
+SHUFFLE	COMPRESS_BYTE_COUNT	823867
+SHUFFLE	COPY_MAP_DATA	507761000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	777838
+SHUFFLE	COMPRESS_BYTE_COUNT	777842
+SHUFFLE	COPY_MAP_DATA	1730322000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	931657
+SHUFFLE	COMPRESS_BYTE_COUNT	931661
+SHUFFLE	COPY_MAP_DATA	18758000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	777017
+SHUFFLE	COMPRESS_BYTE_COUNT	777021
+SHUFFLE	COPY_MAP_DATA	186175000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	814298
+SHUFFLE	COMPRESS_BYTE_COUNT	814302
+SHUFFLE	COPY_MAP_DATA	473300000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	778390
+SHUFFLE	COMPRESS_BYTE_COUNT	778394
+SHUFFLE	COPY_MAP_DATA	883992000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	865745
+SHUFFLE	COMPRESS_BYTE_COUNT	865749
+SHUFFLE	COPY_MAP_DATA	16006000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	810547
+SHUFFLE	COMPRESS_BYTE_COUNT	810551
+SHUFFLE	COPY_MAP_DATA	14331000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	860070
+SHUFFLE	COMPRESS_BYTE_COUNT	860074
+SHUFFLE	COPY_MAP_DATA	19808000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	910480
+SHUFFLE	COMPRESS_BYTE_COUNT	910484
+SHUFFLE	COPY_MAP_DATA	198078000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	777137
+SHUFFLE	COMPRESS_BYTE_COUNT	777141
+SHUFFLE	COPY_MAP_DATA	251793000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	708184
+SHUFFLE	COMPRESS_BYTE_COUNT	708188
+SHUFFLE	COPY_MAP_DATA	1515091000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	826377
+SHUFFLE	COMPRESS_BYTE_COUNT	826381
+SHUFFLE	COPY_MAP_DATA	5997183000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	766885
+SHUFFLE	COMPRESS_BYTE_COUNT	766889
+SHUFFLE	COPY_MAP_DATA	120505000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	728589
+SHUFFLE	COMPRESS_BYTE_COUNT	728593
+SHUFFLE	COPY_MAP_DATA	191699000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	876938
+SHUFFLE	COMPRESS_BYTE_COUNT	876942
+SHUFFLE	COPY_MAP_DATA	18140000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	821263
+SHUFFLE	COMPRESS_BYTE_COUNT	821267
+SHUFFLE	COPY_MAP_DATA	13976000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	765707
+SHUFFLE	COMPRESS_BYTE_COUNT	765711
+SHUFFLE	COPY_MAP_DATA	4669656000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1025514
+SHUFFLE	COMPRESS_BYTE_COUNT	1025518
+SHUFFLE	COPY_MAP_DATA	139098000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	844818
+SHUFFLE	COMPRESS_BYTE_COUNT	844822
+SHUFFLE	COPY_MAP_DATA	423562000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	789197
+SHUFFLE	COMPRESS_BYTE_COUNT	789201
+SHUFFLE	COPY_MAP_DATA	599113000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	706825
+SHUFFLE	COMPRESS_BYTE_COUNT	706829
+SHUFFLE	COPY_MAP_DATA	34489000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	729458
+SHUFFLE	COMPRESS_BYTE_COUNT	729462
+SHUFFLE	COPY_MAP_DATA	36686000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	760427
+SHUFFLE	COMPRESS_BYTE_COUNT	760431
+SHUFFLE	COPY_MAP_DATA	37193000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	708184
+SHUFFLE	COMPRESS_BYTE_COUNT	708188
+SHUFFLE	COPY_MAP_DATA	24476000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	855557
+SHUFFLE	COMPRESS_BYTE_COUNT	855561
+SHUFFLE	COPY_MAP_DATA	2241998000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	837892
+SHUFFLE	COMPRESS_BYTE_COUNT	837896
+SHUFFLE	COPY_MAP_DATA	24155000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	862571
+SHUFFLE	COMPRESS_BYTE_COUNT	862575
+SHUFFLE	COPY_MAP_DATA	26611000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	829140
+SHUFFLE	COMPRESS_BYTE_COUNT	829144
+SHUFFLE	COPY_MAP_DATA	540379000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	733649
+SHUFFLE	COMPRESS_BYTE_COUNT	733653
+SHUFFLE	COPY_MAP_DATA	565174000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	857239
+SHUFFLE	COMPRESS_BYTE_COUNT	857243
+SHUFFLE	COPY_MAP_DATA	15382000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	778830
+SHUFFLE	COMPRESS_BYTE_COUNT	778834
+SHUFFLE	COPY_MAP_DATA	13291000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	792005
+SHUFFLE	COMPRESS_BYTE_COUNT	792009
+SHUFFLE	COPY_MAP_DATA	63123000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	691864
+SHUFFLE	COMPRESS_BYTE_COUNT	691868
+SHUFFLE	COPY_MAP_DATA	420528000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	717933
+SHUFFLE	COMPRESS_BYTE_COUNT	717937
+SHUFFLE	COPY_MAP_DATA	214780000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	777272
+SHUFFLE	COMPRESS_BYTE_COUNT	777276
+SHUFFLE	COPY_MAP_DATA	198727000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	797993
+SHUFFLE	COMPRESS_BYTE_COUNT	797997
+SHUFFLE	COPY_MAP_DATA	490492000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	737327
+SHUFFLE	COMPRESS_BYTE_COUNT	737331
+SHUFFLE	COPY_MAP_DATA	451784000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	812951
+SHUFFLE	COMPRESS_BYTE_COUNT	812955
+SHUFFLE	COPY_MAP_DATA	587932000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	802984
+SHUFFLE	COMPRESS_BYTE_COUNT	802988
+SHUFFLE	COPY_MAP_DATA	450960000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	718534
+SHUFFLE	COMPRESS_BYTE_COUNT	718538
+SHUFFLE	COPY_MAP_DATA	1302339000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	871397
+SHUFFLE	COMPRESS_BYTE_COUNT	871401
+SHUFFLE	COPY_MAP_DATA	14980000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	643285
+SHUFFLE	COMPRESS_BYTE_COUNT	643289
+SHUFFLE	COPY_MAP_DATA	24123000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	787287
+SHUFFLE	COMPRESS_BYTE_COUNT	787291
+SHUFFLE	COPY_MAP_DATA	13196000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	752026
+SHUFFLE	COMPRESS_BYTE_COUNT	752030
+SHUFFLE	COPY_MAP_DATA	27198000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1009722
+SHUFFLE	COMPRESS_BYTE_COUNT	1009726
+SHUFFLE	COPY_MAP_DATA	20650000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	910730
+SHUFFLE	COMPRESS_BYTE_COUNT	910734
+SHUFFLE	COPY_MAP_DATA	27405000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1168012
+SHUFFLE	COMPRESS_BYTE_COUNT	1168016
+SHUFFLE	COPY_MAP_DATA	18744000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	954218
+SHUFFLE	COMPRESS_BYTE_COUNT	954222
+SHUFFLE	COPY_MAP_DATA	22361000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	781404
+SHUFFLE	COMPRESS_BYTE_COUNT	781408
+SHUFFLE	COPY_MAP_DATA	48716000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	138073194000
+MERGE	READ_WRITE	134745423000
+MERGE	READ_WRITE_COUNT	2
+MERGE	COMBINE	0
+MERGE	WRITE	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	16082429000
+SORT	READ_WRITE	15882630000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	173728776
+REDUCE	SETUP	376000
+REDUCE	SETUP_MEM	173728776
+REDUCE	CLEANUP	39000
+REDUCE	CLEANUP_MEM	153053064
+REDUCE	TOTAL_RUN	99381042000
+REDUCE	READ	8870690000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	84112070000
+REDUCE	WRITE	28346751000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	71423593
+REDUCE	VALUE_BYTE_COUNT	65248429
+REDUCE	REDUCE_MEM	153053064
+REDUCE	WRITE	137101000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	628088341000
@@ -0,0 +1,1333 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1849717
+SHUFFLE	COMPRESS_BYTE_COUNT	1849721
+SHUFFLE	COPY_MAP_DATA	596268000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1973717
+SHUFFLE	COMPRESS_BYTE_COUNT	1973721
+SHUFFLE	COPY_MAP_DATA	28356000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1774231
+SHUFFLE	COMPRESS_BYTE_COUNT	1774235
+SHUFFLE	COPY_MAP_DATA	91087000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1821395
+SHUFFLE	COMPRESS_BYTE_COUNT	1821399
+SHUFFLE	COPY_MAP_DATA	1276268000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1896295
+SHUFFLE	COMPRESS_BYTE_COUNT	1896299
+SHUFFLE	COPY_MAP_DATA	113252000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1913344
+SHUFFLE	COMPRESS_BYTE_COUNT	1913348
+SHUFFLE	COPY_MAP_DATA	65005000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1700316
+SHUFFLE	COMPRESS_BYTE_COUNT	1700320
+SHUFFLE	COPY_MAP_DATA	103578000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1891541
+SHUFFLE	COMPRESS_BYTE_COUNT	1891545
+SHUFFLE	COPY_MAP_DATA	128655000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1878387
+SHUFFLE	COMPRESS_BYTE_COUNT	1878391
+SHUFFLE	COPY_MAP_DATA	59811000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1940640
+SHUFFLE	COMPRESS_BYTE_COUNT	1940644
+SHUFFLE	COPY_MAP_DATA	179217000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1833768
+SHUFFLE	COMPRESS_BYTE_COUNT	1833772
+SHUFFLE	COPY_MAP_DATA	65938000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1600787
+SHUFFLE	COMPRESS_BYTE_COUNT	1600791
+SHUFFLE	COPY_MAP_DATA	70306000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1894613
+SHUFFLE	COMPRESS_BYTE_COUNT	1894617
+SHUFFLE	COPY_MAP_DATA	31136000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1893001
+SHUFFLE	COMPRESS_BYTE_COUNT	1893005
+SHUFFLE	COPY_MAP_DATA	28949000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1780925
+SHUFFLE	COMPRESS_BYTE_COUNT	1780929
+SHUFFLE	COPY_MAP_DATA	71002000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1972019
+SHUFFLE	COMPRESS_BYTE_COUNT	1972023
+SHUFFLE	COPY_MAP_DATA	29638000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1844815
+SHUFFLE	COMPRESS_BYTE_COUNT	1844819
+SHUFFLE	COPY_MAP_DATA	148108000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1918094
+SHUFFLE	COMPRESS_BYTE_COUNT	1918098
+SHUFFLE	COPY_MAP_DATA	24290000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1721789
+SHUFFLE	COMPRESS_BYTE_COUNT	1721793
+SHUFFLE	COPY_MAP_DATA	64568000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1847570
+SHUFFLE	COMPRESS_BYTE_COUNT	1847574
+SHUFFLE	COPY_MAP_DATA	146233000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1961534
+SHUFFLE	COMPRESS_BYTE_COUNT	1961538
+SHUFFLE	COPY_MAP_DATA	134851000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1934914
+SHUFFLE	COMPRESS_BYTE_COUNT	1934918
+SHUFFLE	COPY_MAP_DATA	26323000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2057710
+SHUFFLE	COMPRESS_BYTE_COUNT	2057714
+SHUFFLE	COPY_MAP_DATA	24973000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1936647
+SHUFFLE	COMPRESS_BYTE_COUNT	1936651
+SHUFFLE	COPY_MAP_DATA	78670000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1893211
+SHUFFLE	COMPRESS_BYTE_COUNT	1893215
+SHUFFLE	COPY_MAP_DATA	140564000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2013708
+SHUFFLE	COMPRESS_BYTE_COUNT	2013712
+SHUFFLE	COPY_MAP_DATA	54877000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1932037
+SHUFFLE	COMPRESS_BYTE_COUNT	1932041
+SHUFFLE	COPY_MAP_DATA	582680000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1752941
+SHUFFLE	COMPRESS_BYTE_COUNT	1752945
+SHUFFLE	COPY_MAP_DATA	40291000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1954060
+SHUFFLE	COMPRESS_BYTE_COUNT	1954064
+SHUFFLE	COPY_MAP_DATA	393181000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1922937
+SHUFFLE	COMPRESS_BYTE_COUNT	1922941
+SHUFFLE	COPY_MAP_DATA	482525000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1854272
+SHUFFLE	COMPRESS_BYTE_COUNT	1854276
+SHUFFLE	COPY_MAP_DATA	1904292000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1900132
+SHUFFLE	COMPRESS_BYTE_COUNT	1900136
+SHUFFLE	COPY_MAP_DATA	6470914000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1706753
+SHUFFLE	COMPRESS_BYTE_COUNT	1706757
+SHUFFLE	COPY_MAP_DATA	1351654000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1927062
+SHUFFLE	COMPRESS_BYTE_COUNT	1927066
+SHUFFLE	COPY_MAP_DATA	249188000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1829643
+SHUFFLE	COMPRESS_BYTE_COUNT	1829647
+SHUFFLE	COPY_MAP_DATA	3341938000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1748969
+SHUFFLE	COMPRESS_BYTE_COUNT	1748973
+SHUFFLE	COPY_MAP_DATA	116893000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1661383
+SHUFFLE	COMPRESS_BYTE_COUNT	1661387
+SHUFFLE	COPY_MAP_DATA	260945000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1780578
+SHUFFLE	COMPRESS_BYTE_COUNT	1780582
+SHUFFLE	COPY_MAP_DATA	422194000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1805122
+SHUFFLE	COMPRESS_BYTE_COUNT	1805126
+SHUFFLE	COPY_MAP_DATA	9705000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1643818
+SHUFFLE	COMPRESS_BYTE_COUNT	1643822
+SHUFFLE	COPY_MAP_DATA	44021000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1808367
+SHUFFLE	COMPRESS_BYTE_COUNT	1808371
+SHUFFLE	COPY_MAP_DATA	48175000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1615402
+SHUFFLE	COMPRESS_BYTE_COUNT	1615406
+SHUFFLE	COPY_MAP_DATA	43319000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1885426
+SHUFFLE	COMPRESS_BYTE_COUNT	1885430
+SHUFFLE	COPY_MAP_DATA	215666000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1784989
+SHUFFLE	COMPRESS_BYTE_COUNT	1784993
+SHUFFLE	COPY_MAP_DATA	76450000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1870396
+SHUFFLE	COMPRESS_BYTE_COUNT	1870400
+SHUFFLE	COPY_MAP_DATA	27110000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1635052
+SHUFFLE	COMPRESS_BYTE_COUNT	1635056
+SHUFFLE	COPY_MAP_DATA	49794000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1800711
+SHUFFLE	COMPRESS_BYTE_COUNT	1800715
+SHUFFLE	COPY_MAP_DATA	35690000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1887911
+SHUFFLE	COMPRESS_BYTE_COUNT	1887915
+SHUFFLE	COPY_MAP_DATA	107860000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1787224
+SHUFFLE	COMPRESS_BYTE_COUNT	1787228
+SHUFFLE	COPY_MAP_DATA	3015746000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1679020
+SHUFFLE	COMPRESS_BYTE_COUNT	1679024
+SHUFFLE	COPY_MAP_DATA	134768000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1710650
+SHUFFLE	COMPRESS_BYTE_COUNT	1710654
+SHUFFLE	COPY_MAP_DATA	32259000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1708266
+SHUFFLE	COMPRESS_BYTE_COUNT	1708270
+SHUFFLE	COPY_MAP_DATA	3219671000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1500333
+SHUFFLE	COMPRESS_BYTE_COUNT	1500337
+SHUFFLE	COPY_MAP_DATA	194078000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1659450
+SHUFFLE	COMPRESS_BYTE_COUNT	1659454
+SHUFFLE	COPY_MAP_DATA	22820000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1582555
+SHUFFLE	COMPRESS_BYTE_COUNT	1582559
+SHUFFLE	COPY_MAP_DATA	35398000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1877313
+SHUFFLE	COMPRESS_BYTE_COUNT	1877317
+SHUFFLE	COPY_MAP_DATA	161343000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1814648
+SHUFFLE	COMPRESS_BYTE_COUNT	1814652
+SHUFFLE	COPY_MAP_DATA	736619000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1794690
+SHUFFLE	COMPRESS_BYTE_COUNT	1794694
+SHUFFLE	COPY_MAP_DATA	32811000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1702293
+SHUFFLE	COMPRESS_BYTE_COUNT	1702297
+SHUFFLE	COPY_MAP_DATA	311507000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1635208
+SHUFFLE	COMPRESS_BYTE_COUNT	1635212
+SHUFFLE	COPY_MAP_DATA	104703000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1479404
+SHUFFLE	COMPRESS_BYTE_COUNT	1479408
+SHUFFLE	COPY_MAP_DATA	25458000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1565991
+SHUFFLE	COMPRESS_BYTE_COUNT	1565995
+SHUFFLE	COPY_MAP_DATA	41965000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1598372
+SHUFFLE	COMPRESS_BYTE_COUNT	1598376
+SHUFFLE	COPY_MAP_DATA	13891000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1883657
+SHUFFLE	COMPRESS_BYTE_COUNT	1883661
+SHUFFLE	COPY_MAP_DATA	57592000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1591618
+SHUFFLE	COMPRESS_BYTE_COUNT	1591622
+SHUFFLE	COPY_MAP_DATA	48781000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1556305
+SHUFFLE	COMPRESS_BYTE_COUNT	1556309
+SHUFFLE	COPY_MAP_DATA	814449000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1510618
+SHUFFLE	COMPRESS_BYTE_COUNT	1510622
+SHUFFLE	COPY_MAP_DATA	21160000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1611826
+SHUFFLE	COMPRESS_BYTE_COUNT	1611830
+SHUFFLE	COPY_MAP_DATA	119235000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1679891
+SHUFFLE	COMPRESS_BYTE_COUNT	1679895
+SHUFFLE	COPY_MAP_DATA	635502000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1545461
+SHUFFLE	COMPRESS_BYTE_COUNT	1545465
+SHUFFLE	COPY_MAP_DATA	308320000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1783802
+SHUFFLE	COMPRESS_BYTE_COUNT	1783806
+SHUFFLE	COPY_MAP_DATA	468845000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1599526
+SHUFFLE	COMPRESS_BYTE_COUNT	1599530
+SHUFFLE	COPY_MAP_DATA	8160033000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1450577
+SHUFFLE	COMPRESS_BYTE_COUNT	1450581
+SHUFFLE	COPY_MAP_DATA	72446000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1583136
+SHUFFLE	COMPRESS_BYTE_COUNT	1583140
+SHUFFLE	COPY_MAP_DATA	235181000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1841387
+SHUFFLE	COMPRESS_BYTE_COUNT	1841391
+SHUFFLE	COPY_MAP_DATA	11751000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1570424
+SHUFFLE	COMPRESS_BYTE_COUNT	1570428
+SHUFFLE	COPY_MAP_DATA	43431000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1520548
+SHUFFLE	COMPRESS_BYTE_COUNT	1520552
+SHUFFLE	COPY_MAP_DATA	126194000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1771299
+SHUFFLE	COMPRESS_BYTE_COUNT	1771303
+SHUFFLE	COPY_MAP_DATA	141386000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1634345
+SHUFFLE	COMPRESS_BYTE_COUNT	1634349
+SHUFFLE	COPY_MAP_DATA	28386000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1605542
+SHUFFLE	COMPRESS_BYTE_COUNT	1605546
+SHUFFLE	COPY_MAP_DATA	598025000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1606242
+SHUFFLE	COMPRESS_BYTE_COUNT	1606246
+SHUFFLE	COPY_MAP_DATA	29290000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1701939
+SHUFFLE	COMPRESS_BYTE_COUNT	1701943
+SHUFFLE	COPY_MAP_DATA	214071000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1430809
+SHUFFLE	COMPRESS_BYTE_COUNT	1430813
+SHUFFLE	COPY_MAP_DATA	311211000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1591278
+SHUFFLE	COMPRESS_BYTE_COUNT	1591282
+SHUFFLE	COPY_MAP_DATA	1768904000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1470899
+SHUFFLE	COMPRESS_BYTE_COUNT	1470903
+SHUFFLE	COPY_MAP_DATA	1030614000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1666973
+SHUFFLE	COMPRESS_BYTE_COUNT	1666977
+SHUFFLE	COPY_MAP_DATA	875575000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1478028
+SHUFFLE	COMPRESS_BYTE_COUNT	1478032
+SHUFFLE	COPY_MAP_DATA	3833147000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1438159
+SHUFFLE	COMPRESS_BYTE_COUNT	1438163
+SHUFFLE	COPY_MAP_DATA	3393928000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1758494
+SHUFFLE	COMPRESS_BYTE_COUNT	1758498
+SHUFFLE	COPY_MAP_DATA	34101000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	770101
+SHUFFLE	COMPRESS_BYTE_COUNT	770105
+SHUFFLE	COPY_MAP_DATA	16666000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	885042
+SHUFFLE	COMPRESS_BYTE_COUNT	885046
+SHUFFLE	COPY_MAP_DATA	290794000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1521536
+SHUFFLE	COMPRESS_BYTE_COUNT	1521540
+SHUFFLE	COPY_MAP_DATA	30838000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1537450
+SHUFFLE	COMPRESS_BYTE_COUNT	1537454
+SHUFFLE	COPY_MAP_DATA	626369000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	830688
+SHUFFLE	COMPRESS_BYTE_COUNT	830692
+SHUFFLE	COPY_MAP_DATA	41567000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1412157
+SHUFFLE	COMPRESS_BYTE_COUNT	1412161
+SHUFFLE	COPY_MAP_DATA	32929000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	935801
+SHUFFLE	COMPRESS_BYTE_COUNT	935805
+SHUFFLE	COPY_MAP_DATA	19971000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1500670
+SHUFFLE	COMPRESS_BYTE_COUNT	1500674
+SHUFFLE	COPY_MAP_DATA	41919000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	815276
+SHUFFLE	COMPRESS_BYTE_COUNT	815280
+SHUFFLE	COPY_MAP_DATA	19981000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1722643
+SHUFFLE	COMPRESS_BYTE_COUNT	1722647
+SHUFFLE	COPY_MAP_DATA	15127000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	973023
+SHUFFLE	COMPRESS_BYTE_COUNT	973027
+SHUFFLE	COPY_MAP_DATA	11049000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1643471
+SHUFFLE	COMPRESS_BYTE_COUNT	1643475
+SHUFFLE	COPY_MAP_DATA	24142000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	975403
+SHUFFLE	COMPRESS_BYTE_COUNT	975407
+SHUFFLE	COPY_MAP_DATA	128766000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1615456
+SHUFFLE	COMPRESS_BYTE_COUNT	1615460
+SHUFFLE	COPY_MAP_DATA	23722000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1465441
+SHUFFLE	COMPRESS_BYTE_COUNT	1465445
+SHUFFLE	COPY_MAP_DATA	75046000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	934359
+SHUFFLE	COMPRESS_BYTE_COUNT	934363
+SHUFFLE	COPY_MAP_DATA	19743000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1760936
+SHUFFLE	COMPRESS_BYTE_COUNT	1760940
+SHUFFLE	COPY_MAP_DATA	45994000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1582431
+SHUFFLE	COMPRESS_BYTE_COUNT	1582435
+SHUFFLE	COPY_MAP_DATA	22299000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1602728
+SHUFFLE	COMPRESS_BYTE_COUNT	1602732
+SHUFFLE	COPY_MAP_DATA	109083000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1049376
+SHUFFLE	COMPRESS_BYTE_COUNT	1049380
+SHUFFLE	COPY_MAP_DATA	27618000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1731730
+SHUFFLE	COMPRESS_BYTE_COUNT	1731734
+SHUFFLE	COPY_MAP_DATA	52071000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1580032
+SHUFFLE	COMPRESS_BYTE_COUNT	1580036
+SHUFFLE	COPY_MAP_DATA	32136000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1461329
+SHUFFLE	COMPRESS_BYTE_COUNT	1461333
+SHUFFLE	COPY_MAP_DATA	136201000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	924343
+SHUFFLE	COMPRESS_BYTE_COUNT	924347
+SHUFFLE	COPY_MAP_DATA	20777000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1432398
+SHUFFLE	COMPRESS_BYTE_COUNT	1432402
+SHUFFLE	COPY_MAP_DATA	22403000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	983737
+SHUFFLE	COMPRESS_BYTE_COUNT	983741
+SHUFFLE	COPY_MAP_DATA	38459000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	988513
+SHUFFLE	COMPRESS_BYTE_COUNT	988517
+SHUFFLE	COPY_MAP_DATA	126326000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1624706
+SHUFFLE	COMPRESS_BYTE_COUNT	1624710
+SHUFFLE	COPY_MAP_DATA	1124223000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	928238
+SHUFFLE	COMPRESS_BYTE_COUNT	928242
+SHUFFLE	COPY_MAP_DATA	153195000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1570096
+SHUFFLE	COMPRESS_BYTE_COUNT	1570100
+SHUFFLE	COPY_MAP_DATA	133813000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1584688
+SHUFFLE	COMPRESS_BYTE_COUNT	1584692
+SHUFFLE	COPY_MAP_DATA	27477000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	971529
+SHUFFLE	COMPRESS_BYTE_COUNT	971533
+SHUFFLE	COPY_MAP_DATA	889418000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	977286
+SHUFFLE	COMPRESS_BYTE_COUNT	977290
+SHUFFLE	COPY_MAP_DATA	25994000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	927992
+SHUFFLE	COMPRESS_BYTE_COUNT	927996
+SHUFFLE	COPY_MAP_DATA	505933000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	997503
+SHUFFLE	COMPRESS_BYTE_COUNT	997507
+SHUFFLE	COPY_MAP_DATA	681790000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1008657
+SHUFFLE	COMPRESS_BYTE_COUNT	1008661
+SHUFFLE	COPY_MAP_DATA	270138000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	959513
+SHUFFLE	COMPRESS_BYTE_COUNT	959517
+SHUFFLE	COPY_MAP_DATA	38304000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	947344
+SHUFFLE	COMPRESS_BYTE_COUNT	947348
+SHUFFLE	COPY_MAP_DATA	84201000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	965495
+SHUFFLE	COMPRESS_BYTE_COUNT	965499
+SHUFFLE	COPY_MAP_DATA	8756000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	949198
+SHUFFLE	COMPRESS_BYTE_COUNT	949202
+SHUFFLE	COPY_MAP_DATA	18031000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	817142
+SHUFFLE	COMPRESS_BYTE_COUNT	817146
+SHUFFLE	COPY_MAP_DATA	1486942000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	886756
+SHUFFLE	COMPRESS_BYTE_COUNT	886760
+SHUFFLE	COPY_MAP_DATA	212330000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	947271
+SHUFFLE	COMPRESS_BYTE_COUNT	947275
+SHUFFLE	COPY_MAP_DATA	17920000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	912206
+SHUFFLE	COMPRESS_BYTE_COUNT	912210
+SHUFFLE	COPY_MAP_DATA	1283269000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	934641
+SHUFFLE	COMPRESS_BYTE_COUNT	934645
+SHUFFLE	COPY_MAP_DATA	155391000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	956629
+SHUFFLE	COMPRESS_BYTE_COUNT	956633
+SHUFFLE	COPY_MAP_DATA	209828000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	905532
+SHUFFLE	COMPRESS_BYTE_COUNT	905536
+SHUFFLE	COPY_MAP_DATA	149338000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	934914
+SHUFFLE	COMPRESS_BYTE_COUNT	934918
+SHUFFLE	COPY_MAP_DATA	207794000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1496366
+SHUFFLE	COMPRESS_BYTE_COUNT	1496370
+SHUFFLE	COPY_MAP_DATA	12043532000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	948829
+SHUFFLE	COMPRESS_BYTE_COUNT	948833
+SHUFFLE	COPY_MAP_DATA	16895000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	994108
+SHUFFLE	COMPRESS_BYTE_COUNT	994112
+SHUFFLE	COPY_MAP_DATA	713835000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	969113
+SHUFFLE	COMPRESS_BYTE_COUNT	969117
+SHUFFLE	COPY_MAP_DATA	31120000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1060209
+SHUFFLE	COMPRESS_BYTE_COUNT	1060213
+SHUFFLE	COPY_MAP_DATA	31164000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	934639
+SHUFFLE	COMPRESS_BYTE_COUNT	934643
+SHUFFLE	COPY_MAP_DATA	23319000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	936578
+SHUFFLE	COMPRESS_BYTE_COUNT	936582
+SHUFFLE	COPY_MAP_DATA	975318000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	959954
+SHUFFLE	COMPRESS_BYTE_COUNT	959958
+SHUFFLE	COPY_MAP_DATA	1346953000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	973399
+SHUFFLE	COMPRESS_BYTE_COUNT	973403
+SHUFFLE	COPY_MAP_DATA	75112000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	972940
+SHUFFLE	COMPRESS_BYTE_COUNT	972944
+SHUFFLE	COPY_MAP_DATA	600347000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	953288
+SHUFFLE	COMPRESS_BYTE_COUNT	953292
+SHUFFLE	COPY_MAP_DATA	27374000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1064512
+SHUFFLE	COMPRESS_BYTE_COUNT	1064516
+SHUFFLE	COPY_MAP_DATA	17814000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	942590
+SHUFFLE	COMPRESS_BYTE_COUNT	942594
+SHUFFLE	COPY_MAP_DATA	10007000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	941578
+SHUFFLE	COMPRESS_BYTE_COUNT	941582
+SHUFFLE	COPY_MAP_DATA	178227000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	964517
+SHUFFLE	COMPRESS_BYTE_COUNT	964521
+SHUFFLE	COPY_MAP_DATA	523809000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	892473
+SHUFFLE	COMPRESS_BYTE_COUNT	892477
+SHUFFLE	COPY_MAP_DATA	103068000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	978751
+SHUFFLE	COMPRESS_BYTE_COUNT	978755
+SHUFFLE	COPY_MAP_DATA	418717000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	912982
+SHUFFLE	COMPRESS_BYTE_COUNT	912986
+SHUFFLE	COPY_MAP_DATA	33548000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	919011
+SHUFFLE	COMPRESS_BYTE_COUNT	919015
+SHUFFLE	COPY_MAP_DATA	17826000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	979192
+SHUFFLE	COMPRESS_BYTE_COUNT	979196
+SHUFFLE	COPY_MAP_DATA	29658000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	950623
+SHUFFLE	COMPRESS_BYTE_COUNT	950627
+SHUFFLE	COPY_MAP_DATA	12033000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	936811
+SHUFFLE	COMPRESS_BYTE_COUNT	936815
+SHUFFLE	COPY_MAP_DATA	594057000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	941596
+SHUFFLE	COMPRESS_BYTE_COUNT	941600
+SHUFFLE	COPY_MAP_DATA	84910000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	940234
+SHUFFLE	COMPRESS_BYTE_COUNT	940238
+SHUFFLE	COPY_MAP_DATA	17881000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	929583
+SHUFFLE	COMPRESS_BYTE_COUNT	929587
+SHUFFLE	COPY_MAP_DATA	829545000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	922501
+SHUFFLE	COMPRESS_BYTE_COUNT	922505
+SHUFFLE	COPY_MAP_DATA	61822000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	936130
+SHUFFLE	COMPRESS_BYTE_COUNT	936134
+SHUFFLE	COPY_MAP_DATA	17673000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	947872
+SHUFFLE	COMPRESS_BYTE_COUNT	947876
+SHUFFLE	COPY_MAP_DATA	99802000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	932611
+SHUFFLE	COMPRESS_BYTE_COUNT	932615
+SHUFFLE	COPY_MAP_DATA	16159000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	955845
+SHUFFLE	COMPRESS_BYTE_COUNT	955849
+SHUFFLE	COPY_MAP_DATA	56506000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	930164
+SHUFFLE	COMPRESS_BYTE_COUNT	930168
+SHUFFLE	COPY_MAP_DATA	142642000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	880577
+SHUFFLE	COMPRESS_BYTE_COUNT	880581
+SHUFFLE	COPY_MAP_DATA	10868000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	867945
+SHUFFLE	COMPRESS_BYTE_COUNT	867949
+SHUFFLE	COPY_MAP_DATA	18258000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	937172
+SHUFFLE	COMPRESS_BYTE_COUNT	937176
+SHUFFLE	COPY_MAP_DATA	16492000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	949999
+SHUFFLE	COMPRESS_BYTE_COUNT	950003
+SHUFFLE	COPY_MAP_DATA	616293000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	911154
+SHUFFLE	COMPRESS_BYTE_COUNT	911158
+SHUFFLE	COPY_MAP_DATA	34387000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	918461
+SHUFFLE	COMPRESS_BYTE_COUNT	918465
+SHUFFLE	COPY_MAP_DATA	16540000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	913589
+SHUFFLE	COMPRESS_BYTE_COUNT	913593
+SHUFFLE	COPY_MAP_DATA	19291000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	956425
+SHUFFLE	COMPRESS_BYTE_COUNT	956429
+SHUFFLE	COPY_MAP_DATA	37895000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	904154
+SHUFFLE	COMPRESS_BYTE_COUNT	904158
+SHUFFLE	COPY_MAP_DATA	27253000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	935813
+SHUFFLE	COMPRESS_BYTE_COUNT	935817
+SHUFFLE	COPY_MAP_DATA	200502000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	943418
+SHUFFLE	COMPRESS_BYTE_COUNT	943422
+SHUFFLE	COPY_MAP_DATA	73941000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	897215
+SHUFFLE	COMPRESS_BYTE_COUNT	897219
+SHUFFLE	COPY_MAP_DATA	17159000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	998622
+SHUFFLE	COMPRESS_BYTE_COUNT	998626
+SHUFFLE	COPY_MAP_DATA	9859000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	946317
+SHUFFLE	COMPRESS_BYTE_COUNT	946321
+SHUFFLE	COPY_MAP_DATA	15808000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	888616
+SHUFFLE	COMPRESS_BYTE_COUNT	888620
+SHUFFLE	COPY_MAP_DATA	17391000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	833175
+SHUFFLE	COMPRESS_BYTE_COUNT	833179
+SHUFFLE	COPY_MAP_DATA	9178000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	912642
+SHUFFLE	COMPRESS_BYTE_COUNT	912646
+SHUFFLE	COPY_MAP_DATA	63583000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	879975
+SHUFFLE	COMPRESS_BYTE_COUNT	879979
+SHUFFLE	COPY_MAP_DATA	200212000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	882050
+SHUFFLE	COMPRESS_BYTE_COUNT	882054
+SHUFFLE	COPY_MAP_DATA	15997000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	969476
+SHUFFLE	COMPRESS_BYTE_COUNT	969480
+SHUFFLE	COPY_MAP_DATA	36952000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	880709
+SHUFFLE	COMPRESS_BYTE_COUNT	880713
+SHUFFLE	COPY_MAP_DATA	17158000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	919083
+SHUFFLE	COMPRESS_BYTE_COUNT	919087
+SHUFFLE	COPY_MAP_DATA	8570000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	850818
+SHUFFLE	COMPRESS_BYTE_COUNT	850822
+SHUFFLE	COPY_MAP_DATA	17593000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	920004
+SHUFFLE	COMPRESS_BYTE_COUNT	920008
+SHUFFLE	COPY_MAP_DATA	68101000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	886041
+SHUFFLE	COMPRESS_BYTE_COUNT	886045
+SHUFFLE	COPY_MAP_DATA	51898000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	924606
+SHUFFLE	COMPRESS_BYTE_COUNT	924610
+SHUFFLE	COPY_MAP_DATA	16827000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	859476
+SHUFFLE	COMPRESS_BYTE_COUNT	859480
+SHUFFLE	COPY_MAP_DATA	531746000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	826178
+SHUFFLE	COMPRESS_BYTE_COUNT	826182
+SHUFFLE	COPY_MAP_DATA	29989000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	872496
+SHUFFLE	COMPRESS_BYTE_COUNT	872500
+SHUFFLE	COPY_MAP_DATA	357659000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	908084
+SHUFFLE	COMPRESS_BYTE_COUNT	908088
+SHUFFLE	COPY_MAP_DATA	30397000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	882978
+SHUFFLE	COMPRESS_BYTE_COUNT	882982
+SHUFFLE	COPY_MAP_DATA	19576000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	888625
+SHUFFLE	COMPRESS_BYTE_COUNT	888629
+SHUFFLE	COPY_MAP_DATA	7356307000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	859663
+SHUFFLE	COMPRESS_BYTE_COUNT	859667
+SHUFFLE	COPY_MAP_DATA	15006000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	848278
+SHUFFLE	COMPRESS_BYTE_COUNT	848282
+SHUFFLE	COPY_MAP_DATA	2011751000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	852046
+SHUFFLE	COMPRESS_BYTE_COUNT	852050
+SHUFFLE	COPY_MAP_DATA	18820000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	931202
+SHUFFLE	COMPRESS_BYTE_COUNT	931206
+SHUFFLE	COPY_MAP_DATA	256350000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	859000
+SHUFFLE	COMPRESS_BYTE_COUNT	859004
+SHUFFLE	COPY_MAP_DATA	1329585000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	856222
+SHUFFLE	COMPRESS_BYTE_COUNT	856226
+SHUFFLE	COPY_MAP_DATA	144512000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	810925
+SHUFFLE	COMPRESS_BYTE_COUNT	810929
+SHUFFLE	COPY_MAP_DATA	19996000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	852583
+SHUFFLE	COMPRESS_BYTE_COUNT	852587
+SHUFFLE	COPY_MAP_DATA	14000000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	883448
+SHUFFLE	COMPRESS_BYTE_COUNT	883452
+SHUFFLE	COPY_MAP_DATA	12762000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	815515
+SHUFFLE	COMPRESS_BYTE_COUNT	815519
+SHUFFLE	COPY_MAP_DATA	132101000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	784392
+SHUFFLE	COMPRESS_BYTE_COUNT	784396
+SHUFFLE	COPY_MAP_DATA	379106000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	789596
+SHUFFLE	COMPRESS_BYTE_COUNT	789600
+SHUFFLE	COPY_MAP_DATA	57205000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	813107
+SHUFFLE	COMPRESS_BYTE_COUNT	813111
+SHUFFLE	COPY_MAP_DATA	16005000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	833281
+SHUFFLE	COMPRESS_BYTE_COUNT	833285
+SHUFFLE	COPY_MAP_DATA	906742000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	842632
+SHUFFLE	COMPRESS_BYTE_COUNT	842636
+SHUFFLE	COPY_MAP_DATA	13781147000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	914757
+SHUFFLE	COMPRESS_BYTE_COUNT	914761
+SHUFFLE	COPY_MAP_DATA	99355000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	802170
+SHUFFLE	COMPRESS_BYTE_COUNT	802174
+SHUFFLE	COPY_MAP_DATA	15876000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	868996
+SHUFFLE	COMPRESS_BYTE_COUNT	869000
+SHUFFLE	COPY_MAP_DATA	115914000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	809127
+SHUFFLE	COMPRESS_BYTE_COUNT	809131
+SHUFFLE	COPY_MAP_DATA	440670000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	827674
+SHUFFLE	COMPRESS_BYTE_COUNT	827678
+SHUFFLE	COPY_MAP_DATA	179904000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	781938
+SHUFFLE	COMPRESS_BYTE_COUNT	781942
+SHUFFLE	COPY_MAP_DATA	13456000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	952709
+SHUFFLE	COMPRESS_BYTE_COUNT	952713
+SHUFFLE	COPY_MAP_DATA	97532000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	816245
+SHUFFLE	COMPRESS_BYTE_COUNT	816249
+SHUFFLE	COPY_MAP_DATA	7755000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	799719
+SHUFFLE	COMPRESS_BYTE_COUNT	799723
+SHUFFLE	COPY_MAP_DATA	14481000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	728071
+SHUFFLE	COMPRESS_BYTE_COUNT	728075
+SHUFFLE	COPY_MAP_DATA	144066000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	777843
+SHUFFLE	COMPRESS_BYTE_COUNT	777847
+SHUFFLE	COPY_MAP_DATA	11491000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	816542
+SHUFFLE	COMPRESS_BYTE_COUNT	816546
+SHUFFLE	COPY_MAP_DATA	22056000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	819857
+SHUFFLE	COMPRESS_BYTE_COUNT	819861
+SHUFFLE	COPY_MAP_DATA	20035000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	852135
+SHUFFLE	COMPRESS_BYTE_COUNT	852139
+SHUFFLE	COPY_MAP_DATA	2333446000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	774663
+SHUFFLE	COMPRESS_BYTE_COUNT	774667
+SHUFFLE	COPY_MAP_DATA	16155000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	826439
+SHUFFLE	COMPRESS_BYTE_COUNT	826443
+SHUFFLE	COPY_MAP_DATA	2277621000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	819875
+SHUFFLE	COMPRESS_BYTE_COUNT	819879
+SHUFFLE	COPY_MAP_DATA	183638000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	976301
+SHUFFLE	COMPRESS_BYTE_COUNT	976305
+SHUFFLE	COPY_MAP_DATA	37052000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	827592
+SHUFFLE	COMPRESS_BYTE_COUNT	827596
+SHUFFLE	COPY_MAP_DATA	15630000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	854224
+SHUFFLE	COMPRESS_BYTE_COUNT	854228
+SHUFFLE	COPY_MAP_DATA	22347000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	827758
+SHUFFLE	COMPRESS_BYTE_COUNT	827762
+SHUFFLE	COPY_MAP_DATA	35030000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	764822
+SHUFFLE	COMPRESS_BYTE_COUNT	764826
+SHUFFLE	COPY_MAP_DATA	17600000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	738710
+SHUFFLE	COMPRESS_BYTE_COUNT	738714
+SHUFFLE	COPY_MAP_DATA	20940000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	895179
+SHUFFLE	COMPRESS_BYTE_COUNT	895183
+SHUFFLE	COPY_MAP_DATA	20121000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	799630
+SHUFFLE	COMPRESS_BYTE_COUNT	799634
+SHUFFLE	COPY_MAP_DATA	49814000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	815197
+SHUFFLE	COMPRESS_BYTE_COUNT	815201
+SHUFFLE	COPY_MAP_DATA	53093000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	822337
+SHUFFLE	COMPRESS_BYTE_COUNT	822341
+SHUFFLE	COPY_MAP_DATA	112106000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	828301
+SHUFFLE	COMPRESS_BYTE_COUNT	828305
+SHUFFLE	COPY_MAP_DATA	49357000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	951426
+SHUFFLE	COMPRESS_BYTE_COUNT	951430
+SHUFFLE	COPY_MAP_DATA	15113000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	755734
+SHUFFLE	COMPRESS_BYTE_COUNT	755738
+SHUFFLE	COPY_MAP_DATA	17055000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	846290
+SHUFFLE	COMPRESS_BYTE_COUNT	846294
+SHUFFLE	COPY_MAP_DATA	30622000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	754965
+SHUFFLE	COMPRESS_BYTE_COUNT	754969
+SHUFFLE	COPY_MAP_DATA	35129000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	817248
+SHUFFLE	COMPRESS_BYTE_COUNT	817252
+SHUFFLE	COPY_MAP_DATA	193667000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	840539
+SHUFFLE	COMPRESS_BYTE_COUNT	840543
+SHUFFLE	COPY_MAP_DATA	27531000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	751318
+SHUFFLE	COMPRESS_BYTE_COUNT	751322
+SHUFFLE	COPY_MAP_DATA	7882000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	817099
+SHUFFLE	COMPRESS_BYTE_COUNT	817103
+SHUFFLE	COPY_MAP_DATA	30743000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	781213
+SHUFFLE	COMPRESS_BYTE_COUNT	781217
+SHUFFLE	COPY_MAP_DATA	27238000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	751587
+SHUFFLE	COMPRESS_BYTE_COUNT	751591
+SHUFFLE	COPY_MAP_DATA	14967000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	782986
+SHUFFLE	COMPRESS_BYTE_COUNT	782990
+SHUFFLE	COPY_MAP_DATA	26671000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	748748
+SHUFFLE	COMPRESS_BYTE_COUNT	748752
+SHUFFLE	COPY_MAP_DATA	37321000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	756256
+SHUFFLE	COMPRESS_BYTE_COUNT	756260
+SHUFFLE	COPY_MAP_DATA	116607000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	769598
+SHUFFLE	COMPRESS_BYTE_COUNT	769602
+SHUFFLE	COPY_MAP_DATA	13859000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	810348
+SHUFFLE	COMPRESS_BYTE_COUNT	810352
+SHUFFLE	COPY_MAP_DATA	585558000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	756404
+SHUFFLE	COMPRESS_BYTE_COUNT	756408
+SHUFFLE	COPY_MAP_DATA	281407000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	746189
+SHUFFLE	COMPRESS_BYTE_COUNT	746193
+SHUFFLE	COPY_MAP_DATA	272177000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	810259
+SHUFFLE	COMPRESS_BYTE_COUNT	810263
+SHUFFLE	COPY_MAP_DATA	212837000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	820685
+SHUFFLE	COMPRESS_BYTE_COUNT	820689
+SHUFFLE	COPY_MAP_DATA	754528000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	734787
+SHUFFLE	COMPRESS_BYTE_COUNT	734791
+SHUFFLE	COPY_MAP_DATA	304991000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1155588
+SHUFFLE	COMPRESS_BYTE_COUNT	1155592
+SHUFFLE	COPY_MAP_DATA	185660000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1059451
+SHUFFLE	COMPRESS_BYTE_COUNT	1059455
+SHUFFLE	COPY_MAP_DATA	133590000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	764250
+SHUFFLE	COMPRESS_BYTE_COUNT	764254
+SHUFFLE	COPY_MAP_DATA	150971000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	849903
+SHUFFLE	COMPRESS_BYTE_COUNT	849907
+SHUFFLE	COPY_MAP_DATA	557023000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	707196
+SHUFFLE	COMPRESS_BYTE_COUNT	707200
+SHUFFLE	COPY_MAP_DATA	14200000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	720267
+SHUFFLE	COMPRESS_BYTE_COUNT	720271
+SHUFFLE	COPY_MAP_DATA	232786000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	854926
+SHUFFLE	COMPRESS_BYTE_COUNT	854930
+SHUFFLE	COPY_MAP_DATA	86931000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	721430
+SHUFFLE	COMPRESS_BYTE_COUNT	721434
+SHUFFLE	COPY_MAP_DATA	8539000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	741022
+SHUFFLE	COMPRESS_BYTE_COUNT	741026
+SHUFFLE	COPY_MAP_DATA	88869000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	723615
+SHUFFLE	COMPRESS_BYTE_COUNT	723619
+SHUFFLE	COPY_MAP_DATA	520732000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	757835
+SHUFFLE	COMPRESS_BYTE_COUNT	757839
+SHUFFLE	COPY_MAP_DATA	1372209000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	724037
+SHUFFLE	COMPRESS_BYTE_COUNT	724041
+SHUFFLE	COPY_MAP_DATA	299677000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	756677
+SHUFFLE	COMPRESS_BYTE_COUNT	756681
+SHUFFLE	COPY_MAP_DATA	1985169000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	833593
+SHUFFLE	COMPRESS_BYTE_COUNT	833597
+SHUFFLE	COPY_MAP_DATA	66840000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	714584
+SHUFFLE	COMPRESS_BYTE_COUNT	714588
+SHUFFLE	COPY_MAP_DATA	15320000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	760801
+SHUFFLE	COMPRESS_BYTE_COUNT	760805
+SHUFFLE	COPY_MAP_DATA	1216061000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	968253
+SHUFFLE	COMPRESS_BYTE_COUNT	968257
+SHUFFLE	COPY_MAP_DATA	4277935000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	754450
+SHUFFLE	COMPRESS_BYTE_COUNT	754454
+SHUFFLE	COPY_MAP_DATA	8113000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	760944
+SHUFFLE	COMPRESS_BYTE_COUNT	760948
+SHUFFLE	COPY_MAP_DATA	784785000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	836830
+SHUFFLE	COMPRESS_BYTE_COUNT	836834
+SHUFFLE	COPY_MAP_DATA	65890000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	759606
+SHUFFLE	COMPRESS_BYTE_COUNT	759610
+SHUFFLE	COPY_MAP_DATA	4963446000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	729455
+SHUFFLE	COMPRESS_BYTE_COUNT	729459
+SHUFFLE	COPY_MAP_DATA	154657000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	837165
+SHUFFLE	COMPRESS_BYTE_COUNT	837169
+SHUFFLE	COPY_MAP_DATA	204188000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	891018
+SHUFFLE	COMPRESS_BYTE_COUNT	891022
+SHUFFLE	COPY_MAP_DATA	14613000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	750874
+SHUFFLE	COMPRESS_BYTE_COUNT	750878
+SHUFFLE	COPY_MAP_DATA	34534000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	760078
+SHUFFLE	COMPRESS_BYTE_COUNT	760082
+SHUFFLE	COPY_MAP_DATA	381356000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	815172
+SHUFFLE	COMPRESS_BYTE_COUNT	815176
+SHUFFLE	COPY_MAP_DATA	27925000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	694323
+SHUFFLE	COMPRESS_BYTE_COUNT	694327
+SHUFFLE	COPY_MAP_DATA	59515000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	791115
+SHUFFLE	COMPRESS_BYTE_COUNT	791119
+SHUFFLE	COPY_MAP_DATA	1262414000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	841349
+SHUFFLE	COMPRESS_BYTE_COUNT	841353
+SHUFFLE	COPY_MAP_DATA	16882000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	757066
+SHUFFLE	COMPRESS_BYTE_COUNT	757070
+SHUFFLE	COPY_MAP_DATA	1327209000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	977904
+SHUFFLE	COMPRESS_BYTE_COUNT	977908
+SHUFFLE	COPY_MAP_DATA	37520000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	803374
+SHUFFLE	COMPRESS_BYTE_COUNT	803378
+SHUFFLE	COPY_MAP_DATA	63209000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	677372
+SHUFFLE	COMPRESS_BYTE_COUNT	677376
+SHUFFLE	COPY_MAP_DATA	267049000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	797089
+SHUFFLE	COMPRESS_BYTE_COUNT	797093
+SHUFFLE	COPY_MAP_DATA	60172000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	750874
+SHUFFLE	COMPRESS_BYTE_COUNT	750878
+SHUFFLE	COPY_MAP_DATA	288705000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	821233
+SHUFFLE	COMPRESS_BYTE_COUNT	821237
+SHUFFLE	COPY_MAP_DATA	14302000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	740495
+SHUFFLE	COMPRESS_BYTE_COUNT	740499
+SHUFFLE	COPY_MAP_DATA	12394000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	816022
+SHUFFLE	COMPRESS_BYTE_COUNT	816026
+SHUFFLE	COPY_MAP_DATA	14387000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	794367
+SHUFFLE	COMPRESS_BYTE_COUNT	794371
+SHUFFLE	COPY_MAP_DATA	120660000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	712411
+SHUFFLE	COMPRESS_BYTE_COUNT	712415
+SHUFFLE	COPY_MAP_DATA	13820000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	736951
+SHUFFLE	COMPRESS_BYTE_COUNT	736955
+SHUFFLE	COPY_MAP_DATA	16152000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	788066
+SHUFFLE	COMPRESS_BYTE_COUNT	788070
+SHUFFLE	COPY_MAP_DATA	33490000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	813032
+SHUFFLE	COMPRESS_BYTE_COUNT	813036
+SHUFFLE	COPY_MAP_DATA	15252000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	792685
+SHUFFLE	COMPRESS_BYTE_COUNT	792689
+SHUFFLE	COPY_MAP_DATA	7923000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	728307
+SHUFFLE	COMPRESS_BYTE_COUNT	728311
+SHUFFLE	COPY_MAP_DATA	13875000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	748575
+SHUFFLE	COMPRESS_BYTE_COUNT	748579
+SHUFFLE	COPY_MAP_DATA	6789000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	754483
+SHUFFLE	COMPRESS_BYTE_COUNT	754487
+SHUFFLE	COPY_MAP_DATA	35039000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	699451
+SHUFFLE	COMPRESS_BYTE_COUNT	699455
+SHUFFLE	COPY_MAP_DATA	13772000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	761381
+SHUFFLE	COMPRESS_BYTE_COUNT	761385
+SHUFFLE	COPY_MAP_DATA	12511000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	724440
+SHUFFLE	COMPRESS_BYTE_COUNT	724444
+SHUFFLE	COPY_MAP_DATA	22659000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	704386
+SHUFFLE	COMPRESS_BYTE_COUNT	704390
+SHUFFLE	COPY_MAP_DATA	23777000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	791982
+SHUFFLE	COMPRESS_BYTE_COUNT	791986
+SHUFFLE	COPY_MAP_DATA	15473000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	758339
+SHUFFLE	COMPRESS_BYTE_COUNT	758343
+SHUFFLE	COPY_MAP_DATA	77002000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	856383
+SHUFFLE	COMPRESS_BYTE_COUNT	856387
+SHUFFLE	COPY_MAP_DATA	15122000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	644210
+SHUFFLE	COMPRESS_BYTE_COUNT	644214
+SHUFFLE	COPY_MAP_DATA	771380000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	925556
+SHUFFLE	COMPRESS_BYTE_COUNT	925560
+SHUFFLE	COPY_MAP_DATA	18466000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	980653
+SHUFFLE	COMPRESS_BYTE_COUNT	980657
+SHUFFLE	COPY_MAP_DATA	15745000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	720836
+SHUFFLE	COMPRESS_BYTE_COUNT	720840
+SHUFFLE	COPY_MAP_DATA	25961000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	750634
+SHUFFLE	COMPRESS_BYTE_COUNT	750638
+SHUFFLE	COPY_MAP_DATA	19153000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	632681
+SHUFFLE	COMPRESS_BYTE_COUNT	632685
+SHUFFLE	COPY_MAP_DATA	14200000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	881829
+SHUFFLE	COMPRESS_BYTE_COUNT	881833
+SHUFFLE	COPY_MAP_DATA	37878000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	763789
+SHUFFLE	COMPRESS_BYTE_COUNT	763793
+SHUFFLE	COPY_MAP_DATA	14474000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	123265131719
+MERGE	READ_WRITE	117697385719
+MERGE	READ_WRITE_COUNT	2
+MERGE	COMBINE	0
+MERGE	WRITE	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	13890401000
+SORT	READ_WRITE	13677771000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	122167664
+REDUCE	SETUP	1346000
+REDUCE	SETUP_MEM	122167664
+REDUCE	CLEANUP	48000
+REDUCE	CLEANUP_MEM	180339424
+REDUCE	TOTAL_RUN	103889927000
+REDUCE	READ	10830524000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	86535058000
+REDUCE	WRITE	27078733000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	68196250
+REDUCE	VALUE_BYTE_COUNT	62202134
+REDUCE	REDUCE_MEM	180339424
+REDUCE	WRITE	28043000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	643945786719
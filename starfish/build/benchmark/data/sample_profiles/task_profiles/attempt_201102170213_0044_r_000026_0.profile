@@ -0,0 +1,1333 @@
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1988077
+SHUFFLE	COMPRESS_BYTE_COUNT	1988081
+SHUFFLE	COPY_MAP_DATA	127757000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2006466
+SHUFFLE	COMPRESS_BYTE_COUNT	2006470
+SHUFFLE	COPY_MAP_DATA	69876000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2200594
+SHUFFLE	COMPRESS_BYTE_COUNT	2200598
+SHUFFLE	COPY_MAP_DATA	128992000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2476732
+SHUFFLE	COMPRESS_BYTE_COUNT	2476736
+SHUFFLE	COPY_MAP_DATA	50489000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2192624
+SHUFFLE	COMPRESS_BYTE_COUNT	2192628
+SHUFFLE	COPY_MAP_DATA	80152000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2083193
+SHUFFLE	COMPRESS_BYTE_COUNT	2083197
+SHUFFLE	COPY_MAP_DATA	108415000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2081485
+SHUFFLE	COMPRESS_BYTE_COUNT	2081489
+SHUFFLE	COPY_MAP_DATA	137756000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2073149
+SHUFFLE	COMPRESS_BYTE_COUNT	2073153
+SHUFFLE	COPY_MAP_DATA	48715000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2071628
+SHUFFLE	COMPRESS_BYTE_COUNT	2071632
+SHUFFLE	COPY_MAP_DATA	49208000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2167040
+SHUFFLE	COMPRESS_BYTE_COUNT	2167044
+SHUFFLE	COPY_MAP_DATA	22333000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1900275
+SHUFFLE	COMPRESS_BYTE_COUNT	1900279
+SHUFFLE	COPY_MAP_DATA	77033000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2174253
+SHUFFLE	COMPRESS_BYTE_COUNT	2174257
+SHUFFLE	COPY_MAP_DATA	76735000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2338740
+SHUFFLE	COMPRESS_BYTE_COUNT	2338744
+SHUFFLE	COPY_MAP_DATA	346687000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1789549
+SHUFFLE	COMPRESS_BYTE_COUNT	1789553
+SHUFFLE	COPY_MAP_DATA	151211000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2150595
+SHUFFLE	COMPRESS_BYTE_COUNT	2150599
+SHUFFLE	COPY_MAP_DATA	80128000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2221320
+SHUFFLE	COMPRESS_BYTE_COUNT	2221324
+SHUFFLE	COPY_MAP_DATA	55619000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2138798
+SHUFFLE	COMPRESS_BYTE_COUNT	2138802
+SHUFFLE	COPY_MAP_DATA	81823000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2148694
+SHUFFLE	COMPRESS_BYTE_COUNT	2148698
+SHUFFLE	COPY_MAP_DATA	25499000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2216802
+SHUFFLE	COMPRESS_BYTE_COUNT	2216806
+SHUFFLE	COPY_MAP_DATA	50592000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2329110
+SHUFFLE	COMPRESS_BYTE_COUNT	2329114
+SHUFFLE	COPY_MAP_DATA	25003000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2162613
+SHUFFLE	COMPRESS_BYTE_COUNT	2162617
+SHUFFLE	COPY_MAP_DATA	30228000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2132766
+SHUFFLE	COMPRESS_BYTE_COUNT	2132770
+SHUFFLE	COPY_MAP_DATA	27336000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2111361
+SHUFFLE	COMPRESS_BYTE_COUNT	2111365
+SHUFFLE	COPY_MAP_DATA	32336000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2084880
+SHUFFLE	COMPRESS_BYTE_COUNT	2084884
+SHUFFLE	COPY_MAP_DATA	52650000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2146194
+SHUFFLE	COMPRESS_BYTE_COUNT	2146198
+SHUFFLE	COPY_MAP_DATA	31770000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1997066
+SHUFFLE	COMPRESS_BYTE_COUNT	1997070
+SHUFFLE	COPY_MAP_DATA	90742000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1975605
+SHUFFLE	COMPRESS_BYTE_COUNT	1975609
+SHUFFLE	COPY_MAP_DATA	298766000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2220570
+SHUFFLE	COMPRESS_BYTE_COUNT	2220574
+SHUFFLE	COPY_MAP_DATA	1006137000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2303861
+SHUFFLE	COMPRESS_BYTE_COUNT	2303865
+SHUFFLE	COPY_MAP_DATA	62590000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2108628
+SHUFFLE	COMPRESS_BYTE_COUNT	2108632
+SHUFFLE	COPY_MAP_DATA	204792000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2011882
+SHUFFLE	COMPRESS_BYTE_COUNT	2011886
+SHUFFLE	COPY_MAP_DATA	809767000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2159452
+SHUFFLE	COMPRESS_BYTE_COUNT	2159456
+SHUFFLE	COPY_MAP_DATA	6976158000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1986067
+SHUFFLE	COMPRESS_BYTE_COUNT	1986071
+SHUFFLE	COPY_MAP_DATA	1316350000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2047806
+SHUFFLE	COMPRESS_BYTE_COUNT	2047810
+SHUFFLE	COPY_MAP_DATA	3336658000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2173758
+SHUFFLE	COMPRESS_BYTE_COUNT	2173762
+SHUFFLE	COPY_MAP_DATA	30035000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1998862
+SHUFFLE	COMPRESS_BYTE_COUNT	1998866
+SHUFFLE	COPY_MAP_DATA	239373000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1922591
+SHUFFLE	COMPRESS_BYTE_COUNT	1922595
+SHUFFLE	COPY_MAP_DATA	249421000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2020669
+SHUFFLE	COMPRESS_BYTE_COUNT	2020673
+SHUFFLE	COPY_MAP_DATA	676712000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2016115
+SHUFFLE	COMPRESS_BYTE_COUNT	2016119
+SHUFFLE	COPY_MAP_DATA	93025000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2135381
+SHUFFLE	COMPRESS_BYTE_COUNT	2135385
+SHUFFLE	COPY_MAP_DATA	17282000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2044697
+SHUFFLE	COMPRESS_BYTE_COUNT	2044701
+SHUFFLE	COPY_MAP_DATA	25477000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1805794
+SHUFFLE	COMPRESS_BYTE_COUNT	1805798
+SHUFFLE	COPY_MAP_DATA	45771000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2043838
+SHUFFLE	COMPRESS_BYTE_COUNT	2043842
+SHUFFLE	COPY_MAP_DATA	57317000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1763046
+SHUFFLE	COMPRESS_BYTE_COUNT	1763050
+SHUFFLE	COPY_MAP_DATA	129594000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2116568
+SHUFFLE	COMPRESS_BYTE_COUNT	2116572
+SHUFFLE	COPY_MAP_DATA	453999000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2083362
+SHUFFLE	COMPRESS_BYTE_COUNT	2083366
+SHUFFLE	COPY_MAP_DATA	48646000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1979466
+SHUFFLE	COMPRESS_BYTE_COUNT	1979470
+SHUFFLE	COPY_MAP_DATA	632114000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1881051
+SHUFFLE	COMPRESS_BYTE_COUNT	1881055
+SHUFFLE	COPY_MAP_DATA	24564000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1889924
+SHUFFLE	COMPRESS_BYTE_COUNT	1889928
+SHUFFLE	COPY_MAP_DATA	22300000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2079153
+SHUFFLE	COMPRESS_BYTE_COUNT	2079157
+SHUFFLE	COPY_MAP_DATA	821992000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1683854
+SHUFFLE	COMPRESS_BYTE_COUNT	1683858
+SHUFFLE	COPY_MAP_DATA	260737000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1896595
+SHUFFLE	COMPRESS_BYTE_COUNT	1896599
+SHUFFLE	COPY_MAP_DATA	24039000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1792499
+SHUFFLE	COMPRESS_BYTE_COUNT	1792503
+SHUFFLE	COPY_MAP_DATA	681376000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2691430
+SHUFFLE	COMPRESS_BYTE_COUNT	2691434
+SHUFFLE	COPY_MAP_DATA	209168000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1916486
+SHUFFLE	COMPRESS_BYTE_COUNT	1916490
+SHUFFLE	COPY_MAP_DATA	83244000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2035950
+SHUFFLE	COMPRESS_BYTE_COUNT	2035954
+SHUFFLE	COPY_MAP_DATA	819150000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2023069
+SHUFFLE	COMPRESS_BYTE_COUNT	2023073
+SHUFFLE	COPY_MAP_DATA	200165000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2002019
+SHUFFLE	COMPRESS_BYTE_COUNT	2002023
+SHUFFLE	COPY_MAP_DATA	141144000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1938251
+SHUFFLE	COMPRESS_BYTE_COUNT	1938255
+SHUFFLE	COPY_MAP_DATA	61498000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1917678
+SHUFFLE	COMPRESS_BYTE_COUNT	1917682
+SHUFFLE	COPY_MAP_DATA	188545000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1865319
+SHUFFLE	COMPRESS_BYTE_COUNT	1865323
+SHUFFLE	COPY_MAP_DATA	2493488000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1697345
+SHUFFLE	COMPRESS_BYTE_COUNT	1697349
+SHUFFLE	COPY_MAP_DATA	23708000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1754196
+SHUFFLE	COMPRESS_BYTE_COUNT	1754200
+SHUFFLE	COPY_MAP_DATA	34969000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2035964
+SHUFFLE	COMPRESS_BYTE_COUNT	2035968
+SHUFFLE	COPY_MAP_DATA	471580000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1696911
+SHUFFLE	COMPRESS_BYTE_COUNT	1696915
+SHUFFLE	COPY_MAP_DATA	23022000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1807309
+SHUFFLE	COMPRESS_BYTE_COUNT	1807313
+SHUFFLE	COPY_MAP_DATA	39065000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1744254
+SHUFFLE	COMPRESS_BYTE_COUNT	1744258
+SHUFFLE	COPY_MAP_DATA	142205000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1703004
+SHUFFLE	COMPRESS_BYTE_COUNT	1703008
+SHUFFLE	COPY_MAP_DATA	706152000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1932815
+SHUFFLE	COMPRESS_BYTE_COUNT	1932819
+SHUFFLE	COPY_MAP_DATA	26162000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1883628
+SHUFFLE	COMPRESS_BYTE_COUNT	1883632
+SHUFFLE	COPY_MAP_DATA	10938276000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1755621
+SHUFFLE	COMPRESS_BYTE_COUNT	1755625
+SHUFFLE	COPY_MAP_DATA	145740000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2095820
+SHUFFLE	COMPRESS_BYTE_COUNT	2095824
+SHUFFLE	COPY_MAP_DATA	348334000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1684303
+SHUFFLE	COMPRESS_BYTE_COUNT	1684307
+SHUFFLE	COPY_MAP_DATA	1758645000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1678732
+SHUFFLE	COMPRESS_BYTE_COUNT	1678736
+SHUFFLE	COPY_MAP_DATA	799495000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1702018
+SHUFFLE	COMPRESS_BYTE_COUNT	1702022
+SHUFFLE	COPY_MAP_DATA	300158000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1829870
+SHUFFLE	COMPRESS_BYTE_COUNT	1829874
+SHUFFLE	COPY_MAP_DATA	152122000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1774766
+SHUFFLE	COMPRESS_BYTE_COUNT	1774770
+SHUFFLE	COPY_MAP_DATA	24852000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1787275
+SHUFFLE	COMPRESS_BYTE_COUNT	1787279
+SHUFFLE	COPY_MAP_DATA	2056406000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1675874
+SHUFFLE	COMPRESS_BYTE_COUNT	1675878
+SHUFFLE	COPY_MAP_DATA	1141687000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1744356
+SHUFFLE	COMPRESS_BYTE_COUNT	1744360
+SHUFFLE	COPY_MAP_DATA	168335000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1961847
+SHUFFLE	COMPRESS_BYTE_COUNT	1961851
+SHUFFLE	COPY_MAP_DATA	2372954000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1919150
+SHUFFLE	COMPRESS_BYTE_COUNT	1919154
+SHUFFLE	COPY_MAP_DATA	4593052000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1789424
+SHUFFLE	COMPRESS_BYTE_COUNT	1789428
+SHUFFLE	COPY_MAP_DATA	3288018000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1851173
+SHUFFLE	COMPRESS_BYTE_COUNT	1851177
+SHUFFLE	COPY_MAP_DATA	25478000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1661807
+SHUFFLE	COMPRESS_BYTE_COUNT	1661811
+SHUFFLE	COPY_MAP_DATA	25727000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1964813
+SHUFFLE	COMPRESS_BYTE_COUNT	1964817
+SHUFFLE	COPY_MAP_DATA	27607000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1631629
+SHUFFLE	COMPRESS_BYTE_COUNT	1631633
+SHUFFLE	COPY_MAP_DATA	62772000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1611549
+SHUFFLE	COMPRESS_BYTE_COUNT	1611553
+SHUFFLE	COPY_MAP_DATA	23372000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1916324
+SHUFFLE	COMPRESS_BYTE_COUNT	1916328
+SHUFFLE	COPY_MAP_DATA	37282000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	850978
+SHUFFLE	COMPRESS_BYTE_COUNT	850982
+SHUFFLE	COPY_MAP_DATA	16031000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1753517
+SHUFFLE	COMPRESS_BYTE_COUNT	1753521
+SHUFFLE	COPY_MAP_DATA	3694448000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	986838
+SHUFFLE	COMPRESS_BYTE_COUNT	986842
+SHUFFLE	COPY_MAP_DATA	395164000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1996767
+SHUFFLE	COMPRESS_BYTE_COUNT	1996771
+SHUFFLE	COPY_MAP_DATA	515771000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1608694
+SHUFFLE	COMPRESS_BYTE_COUNT	1608698
+SHUFFLE	COPY_MAP_DATA	21647000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	913439
+SHUFFLE	COMPRESS_BYTE_COUNT	913443
+SHUFFLE	COPY_MAP_DATA	57877000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	938573
+SHUFFLE	COMPRESS_BYTE_COUNT	938577
+SHUFFLE	COPY_MAP_DATA	24761000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1068966
+SHUFFLE	COMPRESS_BYTE_COUNT	1068970
+SHUFFLE	COPY_MAP_DATA	57116000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1599000
+SHUFFLE	COMPRESS_BYTE_COUNT	1599004
+SHUFFLE	COPY_MAP_DATA	301161000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1920346
+SHUFFLE	COMPRESS_BYTE_COUNT	1920350
+SHUFFLE	COPY_MAP_DATA	64034000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1088566
+SHUFFLE	COMPRESS_BYTE_COUNT	1088570
+SHUFFLE	COPY_MAP_DATA	72558000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1076732
+SHUFFLE	COMPRESS_BYTE_COUNT	1076736
+SHUFFLE	COPY_MAP_DATA	16594000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1525751
+SHUFFLE	COMPRESS_BYTE_COUNT	1525755
+SHUFFLE	COPY_MAP_DATA	23288000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1034828
+SHUFFLE	COMPRESS_BYTE_COUNT	1034832
+SHUFFLE	COPY_MAP_DATA	16653000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1746827
+SHUFFLE	COMPRESS_BYTE_COUNT	1746831
+SHUFFLE	COPY_MAP_DATA	23123000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1828485
+SHUFFLE	COMPRESS_BYTE_COUNT	1828489
+SHUFFLE	COPY_MAP_DATA	40354000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1866398
+SHUFFLE	COMPRESS_BYTE_COUNT	1866402
+SHUFFLE	COPY_MAP_DATA	34845000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1899588
+SHUFFLE	COMPRESS_BYTE_COUNT	1899592
+SHUFFLE	COPY_MAP_DATA	29282000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1141393
+SHUFFLE	COMPRESS_BYTE_COUNT	1141397
+SHUFFLE	COPY_MAP_DATA	192210000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1761611
+SHUFFLE	COMPRESS_BYTE_COUNT	1761615
+SHUFFLE	COPY_MAP_DATA	14707000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1761791
+SHUFFLE	COMPRESS_BYTE_COUNT	1761795
+SHUFFLE	COPY_MAP_DATA	57921000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1769930
+SHUFFLE	COMPRESS_BYTE_COUNT	1769934
+SHUFFLE	COPY_MAP_DATA	18787000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1629577
+SHUFFLE	COMPRESS_BYTE_COUNT	1629581
+SHUFFLE	COPY_MAP_DATA	16408000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1097940
+SHUFFLE	COMPRESS_BYTE_COUNT	1097944
+SHUFFLE	COPY_MAP_DATA	25208000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1094376
+SHUFFLE	COMPRESS_BYTE_COUNT	1094380
+SHUFFLE	COPY_MAP_DATA	28305000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	3743952
+SHUFFLE	COMPRESS_BYTE_COUNT	3743956
+SHUFFLE	COPY_MAP_DATA	1381276000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1128238
+SHUFFLE	COMPRESS_BYTE_COUNT	1128242
+SHUFFLE	COPY_MAP_DATA	20652000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1801099
+SHUFFLE	COMPRESS_BYTE_COUNT	1801103
+SHUFFLE	COPY_MAP_DATA	307488000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1025649
+SHUFFLE	COMPRESS_BYTE_COUNT	1025653
+SHUFFLE	COPY_MAP_DATA	178664000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1761555
+SHUFFLE	COMPRESS_BYTE_COUNT	1761559
+SHUFFLE	COPY_MAP_DATA	295552000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1708315
+SHUFFLE	COMPRESS_BYTE_COUNT	1708319
+SHUFFLE	COPY_MAP_DATA	27846000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1068707
+SHUFFLE	COMPRESS_BYTE_COUNT	1068711
+SHUFFLE	COPY_MAP_DATA	18535000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1067942
+SHUFFLE	COMPRESS_BYTE_COUNT	1067946
+SHUFFLE	COPY_MAP_DATA	18040000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1062682
+SHUFFLE	COMPRESS_BYTE_COUNT	1062686
+SHUFFLE	COPY_MAP_DATA	17365000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1115221
+SHUFFLE	COMPRESS_BYTE_COUNT	1115225
+SHUFFLE	COPY_MAP_DATA	22328000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1153380
+SHUFFLE	COMPRESS_BYTE_COUNT	1153384
+SHUFFLE	COPY_MAP_DATA	19430000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1086405
+SHUFFLE	COMPRESS_BYTE_COUNT	1086409
+SHUFFLE	COPY_MAP_DATA	144797000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	906641
+SHUFFLE	COMPRESS_BYTE_COUNT	906645
+SHUFFLE	COPY_MAP_DATA	9468000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1071964
+SHUFFLE	COMPRESS_BYTE_COUNT	1071968
+SHUFFLE	COPY_MAP_DATA	19823000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1087776
+SHUFFLE	COMPRESS_BYTE_COUNT	1087780
+SHUFFLE	COPY_MAP_DATA	21184000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1084563
+SHUFFLE	COMPRESS_BYTE_COUNT	1084567
+SHUFFLE	COPY_MAP_DATA	19472000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1062352
+SHUFFLE	COMPRESS_BYTE_COUNT	1062356
+SHUFFLE	COPY_MAP_DATA	165371000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1020843
+SHUFFLE	COMPRESS_BYTE_COUNT	1020847
+SHUFFLE	COPY_MAP_DATA	9488000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1098250
+SHUFFLE	COMPRESS_BYTE_COUNT	1098254
+SHUFFLE	COPY_MAP_DATA	1263187000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1027740
+SHUFFLE	COMPRESS_BYTE_COUNT	1027744
+SHUFFLE	COPY_MAP_DATA	256401000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1066034
+SHUFFLE	COMPRESS_BYTE_COUNT	1066038
+SHUFFLE	COPY_MAP_DATA	228756000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1099038
+SHUFFLE	COMPRESS_BYTE_COUNT	1099042
+SHUFFLE	COPY_MAP_DATA	18305000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1101558
+SHUFFLE	COMPRESS_BYTE_COUNT	1101562
+SHUFFLE	COPY_MAP_DATA	1190619000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1129379
+SHUFFLE	COMPRESS_BYTE_COUNT	1129383
+SHUFFLE	COPY_MAP_DATA	128078000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1640962
+SHUFFLE	COMPRESS_BYTE_COUNT	1640966
+SHUFFLE	COPY_MAP_DATA	8476976000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1111573
+SHUFFLE	COMPRESS_BYTE_COUNT	1111577
+SHUFFLE	COPY_MAP_DATA	19356000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1073049
+SHUFFLE	COMPRESS_BYTE_COUNT	1073053
+SHUFFLE	COPY_MAP_DATA	19451000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1213891
+SHUFFLE	COMPRESS_BYTE_COUNT	1213895
+SHUFFLE	COPY_MAP_DATA	24367000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1128052
+SHUFFLE	COMPRESS_BYTE_COUNT	1128056
+SHUFFLE	COPY_MAP_DATA	28839000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1091193
+SHUFFLE	COMPRESS_BYTE_COUNT	1091197
+SHUFFLE	COPY_MAP_DATA	107962000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1057229
+SHUFFLE	COMPRESS_BYTE_COUNT	1057233
+SHUFFLE	COPY_MAP_DATA	1047690000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1059319
+SHUFFLE	COMPRESS_BYTE_COUNT	1059323
+SHUFFLE	COPY_MAP_DATA	928481000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1082770
+SHUFFLE	COMPRESS_BYTE_COUNT	1082774
+SHUFFLE	COPY_MAP_DATA	19662000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1072704
+SHUFFLE	COMPRESS_BYTE_COUNT	1072708
+SHUFFLE	COPY_MAP_DATA	14705000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1042003
+SHUFFLE	COMPRESS_BYTE_COUNT	1042007
+SHUFFLE	COPY_MAP_DATA	215390000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1216087
+SHUFFLE	COMPRESS_BYTE_COUNT	1216091
+SHUFFLE	COPY_MAP_DATA	1167090000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1348682
+SHUFFLE	COMPRESS_BYTE_COUNT	1348686
+SHUFFLE	COPY_MAP_DATA	26237000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1044051
+SHUFFLE	COMPRESS_BYTE_COUNT	1044055
+SHUFFLE	COPY_MAP_DATA	503578000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1021350
+SHUFFLE	COMPRESS_BYTE_COUNT	1021354
+SHUFFLE	COPY_MAP_DATA	64172000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1011212
+SHUFFLE	COMPRESS_BYTE_COUNT	1011216
+SHUFFLE	COPY_MAP_DATA	276012000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1089911
+SHUFFLE	COMPRESS_BYTE_COUNT	1089915
+SHUFFLE	COPY_MAP_DATA	18118000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1030458
+SHUFFLE	COMPRESS_BYTE_COUNT	1030462
+SHUFFLE	COPY_MAP_DATA	29996000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1012780
+SHUFFLE	COMPRESS_BYTE_COUNT	1012784
+SHUFFLE	COPY_MAP_DATA	147964000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1090769
+SHUFFLE	COMPRESS_BYTE_COUNT	1090773
+SHUFFLE	COPY_MAP_DATA	20942000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1067312
+SHUFFLE	COMPRESS_BYTE_COUNT	1067316
+SHUFFLE	COPY_MAP_DATA	89097000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1095646
+SHUFFLE	COMPRESS_BYTE_COUNT	1095650
+SHUFFLE	COPY_MAP_DATA	17077000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1031148
+SHUFFLE	COMPRESS_BYTE_COUNT	1031152
+SHUFFLE	COPY_MAP_DATA	15533000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1048365
+SHUFFLE	COMPRESS_BYTE_COUNT	1048369
+SHUFFLE	COPY_MAP_DATA	17728000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1039737
+SHUFFLE	COMPRESS_BYTE_COUNT	1039741
+SHUFFLE	COPY_MAP_DATA	29684000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1068205
+SHUFFLE	COMPRESS_BYTE_COUNT	1068209
+SHUFFLE	COPY_MAP_DATA	29651000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1057142
+SHUFFLE	COMPRESS_BYTE_COUNT	1057146
+SHUFFLE	COPY_MAP_DATA	414676000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1033104
+SHUFFLE	COMPRESS_BYTE_COUNT	1033108
+SHUFFLE	COPY_MAP_DATA	397238000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1050790
+SHUFFLE	COMPRESS_BYTE_COUNT	1050794
+SHUFFLE	COPY_MAP_DATA	79999000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1082991
+SHUFFLE	COMPRESS_BYTE_COUNT	1082995
+SHUFFLE	COPY_MAP_DATA	63240000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	985118
+SHUFFLE	COMPRESS_BYTE_COUNT	985122
+SHUFFLE	COPY_MAP_DATA	27060000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1008650
+SHUFFLE	COMPRESS_BYTE_COUNT	1008654
+SHUFFLE	COPY_MAP_DATA	27852000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1036596
+SHUFFLE	COMPRESS_BYTE_COUNT	1036600
+SHUFFLE	COPY_MAP_DATA	19676000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1279423
+SHUFFLE	COMPRESS_BYTE_COUNT	1279427
+SHUFFLE	COPY_MAP_DATA	31229000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1038526
+SHUFFLE	COMPRESS_BYTE_COUNT	1038530
+SHUFFLE	COPY_MAP_DATA	928546000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1038775
+SHUFFLE	COMPRESS_BYTE_COUNT	1038779
+SHUFFLE	COPY_MAP_DATA	575606000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1025860
+SHUFFLE	COMPRESS_BYTE_COUNT	1025864
+SHUFFLE	COPY_MAP_DATA	153069000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1007874
+SHUFFLE	COMPRESS_BYTE_COUNT	1007878
+SHUFFLE	COPY_MAP_DATA	84154000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1004010
+SHUFFLE	COMPRESS_BYTE_COUNT	1004014
+SHUFFLE	COPY_MAP_DATA	4160006000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1099039
+SHUFFLE	COMPRESS_BYTE_COUNT	1099043
+SHUFFLE	COPY_MAP_DATA	20456000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1039761
+SHUFFLE	COMPRESS_BYTE_COUNT	1039765
+SHUFFLE	COPY_MAP_DATA	135535000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1048697
+SHUFFLE	COMPRESS_BYTE_COUNT	1048701
+SHUFFLE	COPY_MAP_DATA	21291000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1088967
+SHUFFLE	COMPRESS_BYTE_COUNT	1088971
+SHUFFLE	COPY_MAP_DATA	20633000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1016707
+SHUFFLE	COMPRESS_BYTE_COUNT	1016711
+SHUFFLE	COPY_MAP_DATA	68152000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1005924
+SHUFFLE	COMPRESS_BYTE_COUNT	1005928
+SHUFFLE	COPY_MAP_DATA	595052000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	980361
+SHUFFLE	COMPRESS_BYTE_COUNT	980365
+SHUFFLE	COPY_MAP_DATA	13958000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1031907
+SHUFFLE	COMPRESS_BYTE_COUNT	1031911
+SHUFFLE	COPY_MAP_DATA	128488000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1045190
+SHUFFLE	COMPRESS_BYTE_COUNT	1045194
+SHUFFLE	COPY_MAP_DATA	12440000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	973472
+SHUFFLE	COMPRESS_BYTE_COUNT	973476
+SHUFFLE	COPY_MAP_DATA	517756000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1010371
+SHUFFLE	COMPRESS_BYTE_COUNT	1010375
+SHUFFLE	COPY_MAP_DATA	201401000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	970114
+SHUFFLE	COMPRESS_BYTE_COUNT	970118
+SHUFFLE	COPY_MAP_DATA	22481000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1018035
+SHUFFLE	COMPRESS_BYTE_COUNT	1018039
+SHUFFLE	COPY_MAP_DATA	23755000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1014161
+SHUFFLE	COMPRESS_BYTE_COUNT	1014165
+SHUFFLE	COPY_MAP_DATA	12597000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	977419
+SHUFFLE	COMPRESS_BYTE_COUNT	977423
+SHUFFLE	COPY_MAP_DATA	17835000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	997123
+SHUFFLE	COMPRESS_BYTE_COUNT	997127
+SHUFFLE	COPY_MAP_DATA	17774000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1031412
+SHUFFLE	COMPRESS_BYTE_COUNT	1031416
+SHUFFLE	COPY_MAP_DATA	17893000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1005746
+SHUFFLE	COMPRESS_BYTE_COUNT	1005750
+SHUFFLE	COPY_MAP_DATA	18821000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	964470
+SHUFFLE	COMPRESS_BYTE_COUNT	964474
+SHUFFLE	COPY_MAP_DATA	20907000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	965504
+SHUFFLE	COMPRESS_BYTE_COUNT	965508
+SHUFFLE	COPY_MAP_DATA	21466000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1005996
+SHUFFLE	COMPRESS_BYTE_COUNT	1006000
+SHUFFLE	COPY_MAP_DATA	78486000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1026122
+SHUFFLE	COMPRESS_BYTE_COUNT	1026126
+SHUFFLE	COPY_MAP_DATA	42838000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	989099
+SHUFFLE	COMPRESS_BYTE_COUNT	989103
+SHUFFLE	COPY_MAP_DATA	4443420000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1017528
+SHUFFLE	COMPRESS_BYTE_COUNT	1017532
+SHUFFLE	COPY_MAP_DATA	702262000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1003143
+SHUFFLE	COMPRESS_BYTE_COUNT	1003147
+SHUFFLE	COPY_MAP_DATA	148311000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	958978
+SHUFFLE	COMPRESS_BYTE_COUNT	958982
+SHUFFLE	COPY_MAP_DATA	23804000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	935582
+SHUFFLE	COMPRESS_BYTE_COUNT	935586
+SHUFFLE	COPY_MAP_DATA	67466000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	928983
+SHUFFLE	COMPRESS_BYTE_COUNT	928987
+SHUFFLE	COPY_MAP_DATA	1501271000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	961015
+SHUFFLE	COMPRESS_BYTE_COUNT	961019
+SHUFFLE	COPY_MAP_DATA	1809355000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	998650
+SHUFFLE	COMPRESS_BYTE_COUNT	998654
+SHUFFLE	COPY_MAP_DATA	17609000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1043619
+SHUFFLE	COMPRESS_BYTE_COUNT	1043623
+SHUFFLE	COPY_MAP_DATA	14976000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	946032
+SHUFFLE	COMPRESS_BYTE_COUNT	946036
+SHUFFLE	COPY_MAP_DATA	14195000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1009830
+SHUFFLE	COMPRESS_BYTE_COUNT	1009834
+SHUFFLE	COPY_MAP_DATA	13631000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	963615
+SHUFFLE	COMPRESS_BYTE_COUNT	963619
+SHUFFLE	COPY_MAP_DATA	249827000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	886704
+SHUFFLE	COMPRESS_BYTE_COUNT	886708
+SHUFFLE	COPY_MAP_DATA	14294000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	903519
+SHUFFLE	COMPRESS_BYTE_COUNT	903523
+SHUFFLE	COPY_MAP_DATA	72657000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	949154
+SHUFFLE	COMPRESS_BYTE_COUNT	949158
+SHUFFLE	COPY_MAP_DATA	18050000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	889080
+SHUFFLE	COMPRESS_BYTE_COUNT	889084
+SHUFFLE	COPY_MAP_DATA	17760000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	969820
+SHUFFLE	COMPRESS_BYTE_COUNT	969824
+SHUFFLE	COPY_MAP_DATA	110381000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	857115
+SHUFFLE	COMPRESS_BYTE_COUNT	857119
+SHUFFLE	COPY_MAP_DATA	626771000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1022575
+SHUFFLE	COMPRESS_BYTE_COUNT	1022579
+SHUFFLE	COPY_MAP_DATA	18147000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	980829
+SHUFFLE	COMPRESS_BYTE_COUNT	980833
+SHUFFLE	COPY_MAP_DATA	3236520000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	925456
+SHUFFLE	COMPRESS_BYTE_COUNT	925460
+SHUFFLE	COPY_MAP_DATA	59942000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	850456
+SHUFFLE	COMPRESS_BYTE_COUNT	850460
+SHUFFLE	COPY_MAP_DATA	56381000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1025948
+SHUFFLE	COMPRESS_BYTE_COUNT	1025952
+SHUFFLE	COPY_MAP_DATA	268239000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	906668
+SHUFFLE	COMPRESS_BYTE_COUNT	906672
+SHUFFLE	COPY_MAP_DATA	35313000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	873622
+SHUFFLE	COMPRESS_BYTE_COUNT	873626
+SHUFFLE	COPY_MAP_DATA	8723000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	953367
+SHUFFLE	COMPRESS_BYTE_COUNT	953371
+SHUFFLE	COPY_MAP_DATA	1794967000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1595907
+SHUFFLE	COMPRESS_BYTE_COUNT	1595911
+SHUFFLE	COPY_MAP_DATA	23835000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	961535
+SHUFFLE	COMPRESS_BYTE_COUNT	961539
+SHUFFLE	COPY_MAP_DATA	21017000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	823366
+SHUFFLE	COMPRESS_BYTE_COUNT	823370
+SHUFFLE	COPY_MAP_DATA	14386000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	865527
+SHUFFLE	COMPRESS_BYTE_COUNT	865531
+SHUFFLE	COPY_MAP_DATA	513230000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	971175
+SHUFFLE	COMPRESS_BYTE_COUNT	971179
+SHUFFLE	COPY_MAP_DATA	38612000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	935021
+SHUFFLE	COMPRESS_BYTE_COUNT	935025
+SHUFFLE	COPY_MAP_DATA	93272000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1007533
+SHUFFLE	COMPRESS_BYTE_COUNT	1007537
+SHUFFLE	COPY_MAP_DATA	20455000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1039745
+SHUFFLE	COMPRESS_BYTE_COUNT	1039749
+SHUFFLE	COPY_MAP_DATA	39081000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	942789
+SHUFFLE	COMPRESS_BYTE_COUNT	942793
+SHUFFLE	COPY_MAP_DATA	111488000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	919092
+SHUFFLE	COMPRESS_BYTE_COUNT	919096
+SHUFFLE	COPY_MAP_DATA	12511000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	862157
+SHUFFLE	COMPRESS_BYTE_COUNT	862161
+SHUFFLE	COPY_MAP_DATA	3901742000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	912455
+SHUFFLE	COMPRESS_BYTE_COUNT	912459
+SHUFFLE	COPY_MAP_DATA	188203000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1064410
+SHUFFLE	COMPRESS_BYTE_COUNT	1064414
+SHUFFLE	COPY_MAP_DATA	19733000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	808538
+SHUFFLE	COMPRESS_BYTE_COUNT	808542
+SHUFFLE	COPY_MAP_DATA	79197000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	918353
+SHUFFLE	COMPRESS_BYTE_COUNT	918357
+SHUFFLE	COPY_MAP_DATA	38988000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	885833
+SHUFFLE	COMPRESS_BYTE_COUNT	885837
+SHUFFLE	COPY_MAP_DATA	10716000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	908955
+SHUFFLE	COMPRESS_BYTE_COUNT	908959
+SHUFFLE	COPY_MAP_DATA	123642000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	826861
+SHUFFLE	COMPRESS_BYTE_COUNT	826865
+SHUFFLE	COPY_MAP_DATA	46177000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	887831
+SHUFFLE	COMPRESS_BYTE_COUNT	887835
+SHUFFLE	COPY_MAP_DATA	438595000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1019060
+SHUFFLE	COMPRESS_BYTE_COUNT	1019064
+SHUFFLE	COPY_MAP_DATA	75492000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	893523
+SHUFFLE	COMPRESS_BYTE_COUNT	893527
+SHUFFLE	COPY_MAP_DATA	2882584000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	889831
+SHUFFLE	COMPRESS_BYTE_COUNT	889835
+SHUFFLE	COPY_MAP_DATA	25710000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	905927
+SHUFFLE	COMPRESS_BYTE_COUNT	905931
+SHUFFLE	COPY_MAP_DATA	14475000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	990408
+SHUFFLE	COMPRESS_BYTE_COUNT	990412
+SHUFFLE	COPY_MAP_DATA	135801000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	881245
+SHUFFLE	COMPRESS_BYTE_COUNT	881249
+SHUFFLE	COPY_MAP_DATA	8015000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	845472
+SHUFFLE	COMPRESS_BYTE_COUNT	845476
+SHUFFLE	COPY_MAP_DATA	12747000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	873102
+SHUFFLE	COMPRESS_BYTE_COUNT	873106
+SHUFFLE	COPY_MAP_DATA	163269000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	810754
+SHUFFLE	COMPRESS_BYTE_COUNT	810758
+SHUFFLE	COPY_MAP_DATA	35688000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	850858
+SHUFFLE	COMPRESS_BYTE_COUNT	850862
+SHUFFLE	COPY_MAP_DATA	26406000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	836815
+SHUFFLE	COMPRESS_BYTE_COUNT	836819
+SHUFFLE	COPY_MAP_DATA	831412000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	876505
+SHUFFLE	COMPRESS_BYTE_COUNT	876509
+SHUFFLE	COPY_MAP_DATA	600601000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	918824
+SHUFFLE	COMPRESS_BYTE_COUNT	918828
+SHUFFLE	COPY_MAP_DATA	16224000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	834065
+SHUFFLE	COMPRESS_BYTE_COUNT	834069
+SHUFFLE	COPY_MAP_DATA	16003000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	898630
+SHUFFLE	COMPRESS_BYTE_COUNT	898634
+SHUFFLE	COPY_MAP_DATA	31401000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	974407
+SHUFFLE	COMPRESS_BYTE_COUNT	974411
+SHUFFLE	COPY_MAP_DATA	53419000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	814568
+SHUFFLE	COMPRESS_BYTE_COUNT	814572
+SHUFFLE	COPY_MAP_DATA	17113000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	870486
+SHUFFLE	COMPRESS_BYTE_COUNT	870490
+SHUFFLE	COPY_MAP_DATA	112465000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1212600
+SHUFFLE	COMPRESS_BYTE_COUNT	1212604
+SHUFFLE	COPY_MAP_DATA	17950000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1005703
+SHUFFLE	COMPRESS_BYTE_COUNT	1005707
+SHUFFLE	COPY_MAP_DATA	426184000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1082361
+SHUFFLE	COMPRESS_BYTE_COUNT	1082365
+SHUFFLE	COPY_MAP_DATA	116426000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	938338
+SHUFFLE	COMPRESS_BYTE_COUNT	938342
+SHUFFLE	COPY_MAP_DATA	14603000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	847490
+SHUFFLE	COMPRESS_BYTE_COUNT	847494
+SHUFFLE	COPY_MAP_DATA	17039000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	822090
+SHUFFLE	COMPRESS_BYTE_COUNT	822094
+SHUFFLE	COPY_MAP_DATA	31868000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	826369
+SHUFFLE	COMPRESS_BYTE_COUNT	826373
+SHUFFLE	COPY_MAP_DATA	163950000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	860363
+SHUFFLE	COMPRESS_BYTE_COUNT	860367
+SHUFFLE	COPY_MAP_DATA	316084000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	789256
+SHUFFLE	COMPRESS_BYTE_COUNT	789260
+SHUFFLE	COPY_MAP_DATA	24681000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	846055
+SHUFFLE	COMPRESS_BYTE_COUNT	846059
+SHUFFLE	COPY_MAP_DATA	967599000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	812674
+SHUFFLE	COMPRESS_BYTE_COUNT	812678
+SHUFFLE	COPY_MAP_DATA	11493000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	848271
+SHUFFLE	COMPRESS_BYTE_COUNT	848275
+SHUFFLE	COPY_MAP_DATA	934864000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	882099
+SHUFFLE	COMPRESS_BYTE_COUNT	882103
+SHUFFLE	COPY_MAP_DATA	3867385000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	875651
+SHUFFLE	COMPRESS_BYTE_COUNT	875655
+SHUFFLE	COPY_MAP_DATA	288933000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	919134
+SHUFFLE	COMPRESS_BYTE_COUNT	919138
+SHUFFLE	COPY_MAP_DATA	27631000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	876291
+SHUFFLE	COMPRESS_BYTE_COUNT	876295
+SHUFFLE	COPY_MAP_DATA	212710000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	865792
+SHUFFLE	COMPRESS_BYTE_COUNT	865796
+SHUFFLE	COPY_MAP_DATA	10256000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	999771
+SHUFFLE	COMPRESS_BYTE_COUNT	999775
+SHUFFLE	COPY_MAP_DATA	17051000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	946968
+SHUFFLE	COMPRESS_BYTE_COUNT	946972
+SHUFFLE	COPY_MAP_DATA	1632443000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	853661
+SHUFFLE	COMPRESS_BYTE_COUNT	853665
+SHUFFLE	COPY_MAP_DATA	1241591000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	825073
+SHUFFLE	COMPRESS_BYTE_COUNT	825077
+SHUFFLE	COPY_MAP_DATA	2304619000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	913135
+SHUFFLE	COMPRESS_BYTE_COUNT	913139
+SHUFFLE	COPY_MAP_DATA	203328000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	947381
+SHUFFLE	COMPRESS_BYTE_COUNT	947385
+SHUFFLE	COPY_MAP_DATA	16142000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	941784
+SHUFFLE	COMPRESS_BYTE_COUNT	941788
+SHUFFLE	COPY_MAP_DATA	415425000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	823014
+SHUFFLE	COMPRESS_BYTE_COUNT	823018
+SHUFFLE	COPY_MAP_DATA	124383000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	821032
+SHUFFLE	COMPRESS_BYTE_COUNT	821036
+SHUFFLE	COPY_MAP_DATA	615159000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	868453
+SHUFFLE	COMPRESS_BYTE_COUNT	868457
+SHUFFLE	COPY_MAP_DATA	18204000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	881967
+SHUFFLE	COMPRESS_BYTE_COUNT	881971
+SHUFFLE	COPY_MAP_DATA	5492895000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	873962
+SHUFFLE	COMPRESS_BYTE_COUNT	873966
+SHUFFLE	COPY_MAP_DATA	576441000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	928798
+SHUFFLE	COMPRESS_BYTE_COUNT	928802
+SHUFFLE	COPY_MAP_DATA	14458000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	777246
+SHUFFLE	COMPRESS_BYTE_COUNT	777250
+SHUFFLE	COPY_MAP_DATA	14366000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	861679
+SHUFFLE	COMPRESS_BYTE_COUNT	861683
+SHUFFLE	COPY_MAP_DATA	5990034000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1106478
+SHUFFLE	COMPRESS_BYTE_COUNT	1106482
+SHUFFLE	COPY_MAP_DATA	514874000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	887243
+SHUFFLE	COMPRESS_BYTE_COUNT	887247
+SHUFFLE	COPY_MAP_DATA	82170000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	748333
+SHUFFLE	COMPRESS_BYTE_COUNT	748337
+SHUFFLE	COPY_MAP_DATA	8610000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	835143
+SHUFFLE	COMPRESS_BYTE_COUNT	835147
+SHUFFLE	COPY_MAP_DATA	19420000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	821598
+SHUFFLE	COMPRESS_BYTE_COUNT	821602
+SHUFFLE	COPY_MAP_DATA	18297000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	931002
+SHUFFLE	COMPRESS_BYTE_COUNT	931006
+SHUFFLE	COPY_MAP_DATA	20212000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	821032
+SHUFFLE	COMPRESS_BYTE_COUNT	821036
+SHUFFLE	COPY_MAP_DATA	21378000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	936978
+SHUFFLE	COMPRESS_BYTE_COUNT	936982
+SHUFFLE	COPY_MAP_DATA	56002000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	964263
+SHUFFLE	COMPRESS_BYTE_COUNT	964267
+SHUFFLE	COPY_MAP_DATA	788902000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	891509
+SHUFFLE	COMPRESS_BYTE_COUNT	891513
+SHUFFLE	COPY_MAP_DATA	2254668000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	899819
+SHUFFLE	COMPRESS_BYTE_COUNT	899823
+SHUFFLE	COPY_MAP_DATA	269223000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	804025
+SHUFFLE	COMPRESS_BYTE_COUNT	804029
+SHUFFLE	COPY_MAP_DATA	937197000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1640642
+SHUFFLE	COMPRESS_BYTE_COUNT	1640646
+SHUFFLE	COPY_MAP_DATA	572503000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	899878
+SHUFFLE	COMPRESS_BYTE_COUNT	899882
+SHUFFLE	COPY_MAP_DATA	851033000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	808617
+SHUFFLE	COMPRESS_BYTE_COUNT	808621
+SHUFFLE	COPY_MAP_DATA	13397000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1035234
+SHUFFLE	COMPRESS_BYTE_COUNT	1035238
+SHUFFLE	COPY_MAP_DATA	16663000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	832815
+SHUFFLE	COMPRESS_BYTE_COUNT	832819
+SHUFFLE	COPY_MAP_DATA	14429000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	799448
+SHUFFLE	COMPRESS_BYTE_COUNT	799452
+SHUFFLE	COPY_MAP_DATA	36907000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	784434
+SHUFFLE	COMPRESS_BYTE_COUNT	784438
+SHUFFLE	COPY_MAP_DATA	23613000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	803013
+SHUFFLE	COMPRESS_BYTE_COUNT	803017
+SHUFFLE	COPY_MAP_DATA	14769000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	828527
+SHUFFLE	COMPRESS_BYTE_COUNT	828531
+SHUFFLE	COPY_MAP_DATA	7956000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	904292
+SHUFFLE	COMPRESS_BYTE_COUNT	904296
+SHUFFLE	COPY_MAP_DATA	27460000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	812437
+SHUFFLE	COMPRESS_BYTE_COUNT	812441
+SHUFFLE	COPY_MAP_DATA	14170000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	813926
+SHUFFLE	COMPRESS_BYTE_COUNT	813930
+SHUFFLE	COPY_MAP_DATA	38683000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	690610
+SHUFFLE	COMPRESS_BYTE_COUNT	690614
+SHUFFLE	COPY_MAP_DATA	27008000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	839719
+SHUFFLE	COMPRESS_BYTE_COUNT	839723
+SHUFFLE	COPY_MAP_DATA	12177000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	807981
+SHUFFLE	COMPRESS_BYTE_COUNT	807985
+SHUFFLE	COPY_MAP_DATA	40428000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	1042704
+SHUFFLE	COMPRESS_BYTE_COUNT	1042708
+SHUFFLE	COPY_MAP_DATA	14426000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	2148047
+SHUFFLE	COMPRESS_BYTE_COUNT	2148051
+SHUFFLE	COPY_MAP_DATA	48465000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	989346
+SHUFFLE	COMPRESS_BYTE_COUNT	989350
+SHUFFLE	COPY_MAP_DATA	34714000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	800112
+SHUFFLE	COMPRESS_BYTE_COUNT	800116
+SHUFFLE	COPY_MAP_DATA	33882000
+SHUFFLE	UNCOMPRESS	0
+SHUFFLE	UNCOMPRESS_BYTE_COUNT	928062
+SHUFFLE	COMPRESS_BYTE_COUNT	928066
+SHUFFLE	COPY_MAP_DATA	114061000
+SHUFFLE	UNCOMPRESS	0
+MERGE	MERGE_IN_MEMORY	116991620000
+MERGE	READ_WRITE	116043123000
+MERGE	READ_WRITE_COUNT	3
+MERGE	COMBINE	0
+MERGE	WRITE	0
+MERGE	UNCOMPRESS	0
+MERGE	COMPRESS	0
+SORT	MERGE_MAP_DATA	249676000
+SORT	READ_WRITE	119280000
+SORT	READ_WRITE_COUNT	1
+SORT	UNCOMPRESS	0
+SORT	COMPRESS	0
+REDUCE	STARTUP_MEM	168265392
+REDUCE	SETUP	287000
+REDUCE	SETUP_MEM	168265392
+REDUCE	CLEANUP	39000
+REDUCE	CLEANUP_MEM	223028168
+REDUCE	TOTAL_RUN	113604276000
+REDUCE	READ	9300599000
+REDUCE	UNCOMPRESS	0
+REDUCE	REDUCE	97958877000
+REDUCE	WRITE	31236069000
+REDUCE	COMPRESS	0
+REDUCE	KEY_BYTE_COUNT	80139618
+REDUCE	VALUE_BYTE_COUNT	73824336
+REDUCE	REDUCE_MEM	223030216
+REDUCE	WRITE	1557500000
+REDUCE	COMPRESS	0
+TASK	TOTAL_RUN	657185059000
@@ -0,0 +1,197 @@
+package edu.duke.starfish.benchmark;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.Path;
+
+import edu.duke.starfish.profile.profileinfo.ClusterConfiguration;
+import edu.duke.starfish.profile.profileinfo.execution.DataLocality;
+import edu.duke.starfish.profile.profileinfo.execution.profile.MRJobProfile;
+import edu.duke.starfish.profile.profileinfo.execution.profile.MRMapProfile;
+import edu.duke.starfish.profile.profileinfo.execution.profile.enums.MRCounter;
+import edu.duke.starfish.profile.profileinfo.setup.TaskTrackerInfo;
+import edu.duke.starfish.profile.utils.XMLProfileParser;
+import edu.duke.starfish.whatif.data.MapInputSpecs;
+import edu.duke.starfish.whatif.junit.SampleProfiles;
+
+/**
+ * Provides the realistic inputs of the benchmarks. The job profiles and the
+ * job configurations come from the extracted samples/sample_profiles.tar.gz
+ * archive, or from {@link SampleProfiles}.
+ * 
+ * @author hero
+ */
+public class BenchmarkData {
+
+	/* ***************************************************************
+	 * DATA MEMBERS
+	 * ***************************************************************
+	 */
+
+	private File dataDir; // The extracted sample_profiles directory
+
+	// Constants
+	public static final String TERASORT = "TeraSort";
+	public static final String WORDCOUNT = "WordCount";
+	public static final String WORDCOUNT_JOB = "job_201102151322_0149";
+
+	private static final String JOB_PROFILES = "job_profiles";
+	private static final String HISTORY = "history";
+	private static final int NODES_PER_RACK = 40;
+	private static final long DEF_SPLIT_SIZE = 64l * 1024 * 1024;
+
+	/**
+	 * Constructor
+	 * 
+	 * @param dataDir
+	 *            the directory where sample_profiles.tar.gz was extracted
+	 */
+	public BenchmarkData(File dataDir) {
+		if (!new File(dataDir, JOB_PROFILES).isDirectory())
+			throw new RuntimeException("ERROR: No sample profiles found in "
+					+ dataDir.getAbsolutePath());
+		this.dataDir = dataDir;
+	}
+
+	/* ***************************************************************
+	 * PUBLIC METHODS
+	 * ***************************************************************
+	 */
+
+	/**
+	 * @param name
+	 *            the name of the job (TERASORT or WORDCOUNT)
+	 * @return the job profile
+	 */
+	public MRJobProfile getJobProfile(String name) {
+		if (name.equals(TERASORT))
+			return SampleProfiles.getTeraSortJobProfile();
+		else if (name.equals(WORDCOUNT))
+			return XMLProfileParser.importJobProfile(getJobProfileFile(
+					WORDCOUNT_JOB, true));
+		else
+			throw new RuntimeException("ERROR: Unknown sample job " + name);
+	}
+
+	/**
+	 * @param name
+	 *            the name of the job (TERASORT or WORDCOUNT)
+	 * @return the job configuration
+	 */
+	public Configuration getConfiguration(String name) {
+		if (name.equals(TERASORT))
+			return SampleProfiles.getTeraSortConfiguration();
+		else if (name.equals(WORDCOUNT))
+			return getJobConfiguration(WORDCOUNT_JOB);
+		else
+			throw new RuntimeException("ERROR: Unknown sample job " + name);
+	}
+
+	/**
+	 * @param name
+	 *            the name of the job (TERASORT or WORDCOUNT)
+	 * @return the input specs for the map tasks of the job, as observed in
+	 *         the job profile
+	 */
+	public MapInputSpecs getMapInputSpecs(String name) {
+		MRJobProfile jobProf = getJobProfile(name);
+		MRMapProfile mapProf = jobProf.getAvgMapProfiles().get(0);
+
+		int numMappers = (int) jobProf.getCounter(MRCounter.MAP_TASKS,
+				(long) mapProf.getNumTasks());
+		long size = mapProf.getCounter(MRCounter.HDFS_BYTES_READ,
+				DEF_SPLIT_SIZE);
+		return new MapInputSpecs(0, numMappers, size, false,
+				DataLocality.DATA_LOCAL);
+	}
+
+	/**
+	 * @param jobId
+	 *            the job id
+	 * @param adjusted
+	 *            whether to get the adjusted profile
+	 * @return the file with the job profile
+	 */
+	public File getJobProfileFile(String jobId, boolean adjusted) {
+		File file = new File(new File(dataDir, JOB_PROFILES),
+				(adjusted ? "adj_profile_" : "profile_") + jobId + ".xml");
+		if (!file.isFile())
+			throw new RuntimeException("ERROR: No profile found for " + jobId);
+		return file;
+	}
+
+	/**
+	 * @param jobId
+	 *            the job id
+	 * @return the job configuration from the job history
+	 */
+	public Configuration getJobConfiguration(String jobId) {
+		File[] files = new File(dataDir, HISTORY).listFiles();
+		if (files != null) {
+			for (File file : files) {
+				if (file.getName().endsWith("_" + jobId + "_conf.xml")) {
+					Configuration conf = new Configuration(false);
+					conf.addResource(new Path(file.getAbsolutePath()));
+					return conf;
+				}
+			}
+		}
+
+		throw new RuntimeException("ERROR: No configuration found for "
+				+ jobId);
+	}
+
+	/**
+	 * Create a cluster with the given number of nodes, each with 2 map slots
+	 * and 2 reduce slots, in racks of 40 nodes
+	 * 
+	 * @param numNodes
+	 *            the number of nodes
+	 * @return the cluster
+	 */
+	public static ClusterConfiguration getCluster(int numNodes) {
+		ClusterConfiguration cluster = new ClusterConfiguration();
+		for (int i = 0; i < numNodes; ++i) {
+			TaskTrackerInfo taskTracker = cluster.addFindTaskTrackerInfo(
+					"tracker-" + i, "/rack-" + (i / NODES_PER_RACK) + "/host-"
+							+ i);
+			taskTracker.setNumMapSlots(2);
+			taskTracker.setNumReduceSlots(2);
+		}
+		return cluster;
+	}
+
+	/**
+	 * Read the entire contents of a file in memory
+	 * 
+	 * @param file
+	 *            the file
+	 * @return the bytes of the file
+	 */
+	public static byte[] readFully(File file) {
+		InputStream in = null;
+		try {
+			in = new FileInputStream(file);
+			ByteArrayOutputStream out = new ByteArrayOutputStream();
+			byte[] buffer = new byte[8192];
+			int read;
+			while ((read = in.read(buffer)) > 0)
+				out.write(buffer, 0, read);
+			return out.toByteArray();
+		} catch (IOException e) {
+			throw new RuntimeException("ERROR: Unable to read " + file, e);
+		} finally {
+			try {
+				if (in != null)
+					in.close();
+			} catch (IOException e) {
+			}
+		}
+	}
+
+}
@@ -0,0 +1,177 @@
+package edu.duke.starfish.benchmark;
+
+import java.util.Properties;
+
+/**
+ * The result of running a micro-benchmark. It contains the average time per
+ * operation and the statistics of the memory allocation and garbage
+ * collection during the measurement iterations (similar to the output of the
+ * JMH GC profiler).
+ * 
+ * @author hero
+ */
+public class BenchmarkResult {
+
+	/* ***************************************************************
+	 * DATA MEMBERS
+	 * ***************************************************************
+	 */
+
+	private String name; // The benchmark name
+	private long numOps; // The number of measured operations
+	private double score; // The average time per operation (ns)
+	private double scoreError; // The standard deviation across iterations
+	private double allocNorm; // The allocated bytes per operation
+	private double allocRate; // The allocation rate (MB/sec)
+	private long gcCount; // The number of garbage collections
+	private long gcTime; // The time spent in garbage collections (ms)
+
+	// Property suffixes used for storing the results
+	private static final String SCORE = ".score";
+	private static final String ALLOC_NORM = ".gc.alloc.rate.norm";
+
+	/**
+	 * Constructor
+	 * 
+	 * @param name
+	 *            the benchmark name
+	 * @param numOps
+	 *            the number of measured operations
+	 * @param score
+	 *            the average time per operation (ns)
+	 * @param scoreError
+	 *            the standard deviation of the time across iterations
+	 * @param allocNorm
+	 *            the allocated bytes per operation (negative if unknown)
+	 * @param allocRate
+	 *            the allocation rate in MB/sec (negative if unknown)
+	 * @param gcCount
+	 *            the number of garbage collections
+	 * @param gcTime
+	 *            the time spent in garbage collections (ms)
+	 */
+	public BenchmarkResult(String name, long numOps, double score,
+			double scoreError, double allocNorm, double allocRate,
+			long gcCount, long gcTime) {
+		this.name = name;
+		this.numOps = numOps;
+		this.score = score;
+		this.scoreError = scoreError;
+		this.allocNorm = allocNorm;
+		this.allocRate = allocRate;
+		this.gcCount = gcCount;
+		this.gcTime = gcTime;
+	}
+
+	/* ***************************************************************
+	 * GETTERS & SETTERS
+	 * ***************************************************************
+	 */
+
+	/**
+	 * @return the benchmark name
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * @return the number of measured operations
+	 */
+	public long getNumOps() {
+		return numOps;
+	}
+
+	/**
+	 * @return the average time per operation (ns)
+	 */
+	public double getScore() {
+		return score;
+	}
+
+	/**
+	 * @return the standard deviation of the time per operation across the
+	 *         measurement iterations (ns)
+	 */
+	public double getScoreError() {
+		return scoreError;
+	}
+
+	/**
+	 * @return the allocated bytes per operation (negative if unknown)
+	 */
+	public double getAllocNorm() {
+		return allocNorm;
+	}
+
+	/**
+	 * @return the allocation rate in MB/sec (negative if unknown)
+	 */
+	public double getAllocRate() {
+		return allocRate;
+	}
+
+	/**
+	 * @return the number of garbage collections
+	 */
+	public long getGcCount() {
+		return gcCount;
+	}
+
+	/**
+	 * @return the time spent in garbage collections (ms)
+	 */
+	public long getGcTime() {
+		return gcTime;
+	}
+
+	/* ***************************************************************
+	 * PUBLIC METHODS
+	 * ***************************************************************
+	 */
+
+	/**
+	 * Store the score and the normalized allocation rate in the properties
+	 * 
+	 * @param props
+	 *            the properties
+	 */
+	public void store(Properties props) {
+		props.setProperty(name + SCORE, Long.toString(Math.round(score)));
+		props.setProperty(name + ALLOC_NORM, Long.toString(Math
+				.round(allocNorm)));
+	}
+
+	/**
+	 * Load the score and the normalized allocation rate of a benchmark from
+	 * the properties
+	 * 
+	 * @param props
+	 *            the properties
+	 * @param name
+	 *            the benchmark name
+	 * @return the (partial) result, or null if the benchmark is not found
+	 */
+	public static BenchmarkResult load(Properties props, String name) {
+		String score = props.getProperty(name + SCORE);
+		if (score == null)
+			return null;
+
+		String allocNorm = props.getProperty(name + ALLOC_NORM, "-1");
+		return new BenchmarkResult(name, 0l, Double.parseDouble(score), 0d,
+				Double.parseDouble(allocNorm), -1d, 0l, 0l);
+	}
+
+	/* ***************************************************************
+	 * OVERRIDEN METHODS
+	 * ***************************************************************
+	 */
+
+	@Override
+	public String toString() {
+		return String.format("%-60s %14.1f +- %10.1f ns/op %12.1f B/op "
+				+ "%9.1f MB/sec %5d gc %6d ms", name, score, scoreError,
+				allocNorm, allocRate, gcCount, gcTime);
+	}
+
+}
@@ -0,0 +1,200 @@
+package edu.duke.starfish.benchmark;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+
+import com.sun.management.ThreadMXBean;
+
+/**
+ * Runs micro-benchmarks in the current thread. Each benchmark is first warmed
+ * up for a number of iterations and then measured for a number of iterations.
+ * During each iteration, the operation is invoked repeatedly until the
+ * iteration time has elapsed. The allocated bytes are measured with the
+ * HotSpot thread MXBean (when supported), and the garbage collections with the
+ * garbage collector MXBeans.
+ * 
+ * @author hero
+ */
+public class BenchmarkRunner {
+
+	/* ***************************************************************
+	 * DATA MEMBERS
+	 * ***************************************************************
+	 */
+
+	private int warmupIterations; // The number of warm up iterations
+	private int measureIterations; // The number of measurement iterations
+	private long iterationTime; // The duration of each iteration (ns)
+
+	private Object sink; // Keeps the results reachable
+
+	// The maximum number of operations between two timer checks
+	private static final long MAX_BATCH = 1024l;
+
+	/**
+	 * Constructor
+	 * 
+	 * @param warmupIterations
+	 *            the number of warm up iterations
+	 * @param measureIterations
+	 *            the number of measurement iterations
+	 * @param iterationTimeMs
+	 *            the duration of each iteration in milliseconds
+	 */
+	public BenchmarkRunner(int warmupIterations, int measureIterations,
+			long iterationTimeMs) {
+		if (measureIterations < 1 || iterationTimeMs < 1)
+			throw new IllegalArgumentException(
+					"The measurement iterations and time must be positive");
+
+		this.warmupIterations = warmupIterations;
+		this.measureIterations = measureIterations;
+		this.iterationTime = iterationTimeMs * 1000000l;
+		this.sink = null;
+	}
+
+	/* ***************************************************************
+	 * PUBLIC METHODS
+	 * ***************************************************************
+	 */
+
+	/**
+	 * Set up, warm up, and measure a benchmark
+	 * 
+	 * @param benchmark
+	 *            the benchmark to run
+	 * @return the result
+	 */
+	public BenchmarkResult run(MicroBenchmark benchmark) {
+		benchmark.setUp();
+
+		// Warm up
+		for (int i = 0; i < warmupIterations; ++i)
+			runIteration(benchmark);
+		System.gc();
+
+		// Measure
+		long startBytes = getAllocatedBytes();
+		long startGcCount = getGcCount();
+		long startGcTime = getGcTime();
+
+		long totalOps = 0l;
+		long totalTime = 0l;
+		double[] scores = new double[measureIterations];
+		for (int i = 0; i < measureIterations; ++i) {
+			long startTime = System.nanoTime();
+			long ops = runIteration(benchmark);
+			long time = System.nanoTime() - startTime;
+
+			scores[i] = time / (double) ops;
+			totalOps += ops;
+			totalTime += time;
+		}
+
+		long bytes = getAllocatedBytes() - startBytes;
+		long gcCount = getGcCount() - startGcCount;
+		long gcTime = getGcTime() - startGcTime;
+
+		// Compute the statistics
+		double score = totalTime / (double) totalOps;
+		double variance = 0d;
+		for (double s : scores)
+			variance += (s - score) * (s - score);
+		double scoreError = (measureIterations > 1) ? Math.sqrt(variance
+				/ (measureIterations - 1)) : 0d;
+
+		double allocNorm = -1d;
+		double allocRate = -1d;
+		if (startBytes >= 0) {
+			allocNorm = bytes / (double) totalOps;
+			allocRate = (bytes / (1024d * 1024d)) / (totalTime / 1e9);
+		}
+
+		return new BenchmarkResult(benchmark.getName(), totalOps, score,
+				scoreError, allocNorm, allocRate, gcCount, gcTime);
+	}
+
+	/* ***************************************************************
+	 * PRIVATE METHODS
+	 * ***************************************************************
+	 */
+
+	/**
+	 * Invoke the operation repeatedly until the iteration time elapses. The
+	 * time is checked after batches of operations, whose size grows for fast
+	 * operations (to keep the timer overhead low) but is limited by the
+	 * remaining time (to avoid overshooting it for slow operations).
+	 * 
+	 * @param benchmark
+	 *            the benchmark
+	 * @return the number of operations performed
+	 */
+	private long runIteration(MicroBenchmark benchmark) {
+		long startTime = System.nanoTime();
+		long endTime = startTime + iterationTime;
+		long now = startTime;
+		long ops = 0l;
+		long batch = 1l;
+
+		while (ops == 0l || now < endTime) {
+			for (long i = 0; i < batch; ++i)
+				sink = benchmark.invoke();
+			ops += batch;
+			now = System.nanoTime();
+
+			long timePerOp = Math.max(1l, (now - startTime) / ops);
+			batch = Math.min(Math.min(2 * batch, MAX_BATCH), (endTime - now)
+					/ timePerOp);
+			batch = Math.max(1l, batch);
+		}
+
+		return ops;
+	}
+
+	/**
+	 * @return the bytes allocated by the current thread so far, or -1 if the
+	 *         measurement is not supported by the JVM
+	 */
+	private long getAllocatedBytes() {
+		Object bean = ManagementFactory.getThreadMXBean();
+		if (bean instanceof ThreadMXBean) {
+			ThreadMXBean sunBean = (ThreadMXBean) bean;
+			if (sunBean.isThreadAllocatedMemorySupported()
+					&& sunBean.isThreadAllocatedMemoryEnabled())
+				return sunBean.getThreadAllocatedBytes(Thread.currentThread()
+						.getId());
+		}
+		return -1l;
+	}
+
+	/**
+	 * @return the total number of garbage collections so far
+	 */
+	private long getGcCount() {
+		long count = 0l;
+		for (GarbageCollectorMXBean bean : ManagementFactory
+				.getGarbageCollectorMXBeans())
+			count += Math.max(0l, bean.getCollectionCount());
+		return count;
+	}
+
+	/**
+	 * @return the total time spent in garbage collections so far (ms)
+	 */
+	private long getGcTime() {
+		long time = 0l;
+		for (GarbageCollectorMXBean bean : ManagementFactory
+				.getGarbageCollectorMXBeans())
+			time += Math.max(0l, bean.getCollectionTime());
+		return time;
+	}
+
+	/**
+	 * @return the result of the last invocation (prevents the JIT compiler
+	 *         from eliminating the benchmarked work)
+	 */
+	Object getSink() {
+		return sink;
+	}
+
+}
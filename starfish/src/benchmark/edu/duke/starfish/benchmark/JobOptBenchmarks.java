@@ -0,0 +1,136 @@
+package edu.duke.starfish.benchmark;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import org.apache.hadoop.conf.Configuration;
+
+import edu.duke.starfish.jobopt.params.ParameterDescriptor;
+import edu.duke.starfish.jobopt.rrs.IRRSCostEngine;
+import edu.duke.starfish.jobopt.rrs.RecursiveRandomSearch;
+import edu.duke.starfish.jobopt.space.ParamSpaceUtils;
+import edu.duke.starfish.jobopt.space.ParameterSpace;
+import edu.duke.starfish.jobopt.space.ParameterSpacePoint;
+import edu.duke.starfish.whatif.WhatIfEngine;
+import edu.duke.starfish.whatif.data.JobParameters;
+import edu.duke.starfish.whatif.junit.SampleDataSetModel;
+import edu.duke.starfish.whatif.oracle.JobProfileOracle;
+import edu.duke.starfish.whatif.scheduler.BasicFIFOScheduler;
+
+/**
+ * The micro-benchmarks for the Job Optimizer: a full Recursive Random Search
+ * over the parameter space of a sample job, costed by the What-if Engine.
+ * 
+ * @author hero
+ */
+public class JobOptBenchmarks {
+
+	// The cluster and the input of the optimized jobs
+	private static final int NUM_NODES = 20;
+	private static final int NUM_MAPPERS = 40;
+	private static final long INPUT_SIZE = 40l * 64 * 1024 * 1024;
+
+	// The seed used for the random search
+	private static final long RANDOM_SEED = 23l;
+
+	/**
+	 * Create the job optimizer benchmarks
+	 * 
+	 * @param data
+	 *            the benchmark data
+	 * @return the benchmarks
+	 */
+	public static List<MicroBenchmark> create(BenchmarkData data) {
+		List<MicroBenchmark> benchmarks = new ArrayList<MicroBenchmark>();
+		benchmarks.add(createRRS(data, BenchmarkData.TERASORT));
+		benchmarks.add(createRRS(data, BenchmarkData.WORDCOUNT));
+		return benchmarks;
+	}
+
+	/**
+	 * Benchmark the search for the best configuration of a sample job. The
+	 * random seed is reset before each search so that all the operations
+	 * explore the same space points.
+	 * 
+	 * @param data
+	 *            the benchmark data
+	 * @param job
+	 *            the sample job
+	 * @return the benchmark
+	 */
+	private static MicroBenchmark createRRS(final BenchmarkData data,
+			final String job) {
+		return new MicroBenchmark("RecursiveRandomSearch.findBestSpacePoint["
+				+ job + "]") {
+
+			private Configuration conf;
+			private WhatIfCostEngine costEngine;
+
+			@Override
+			public void setUp() {
+				conf = data.getConfiguration(job);
+				conf.setInt(SampleDataSetModel.NUM_MAPPERS, NUM_MAPPERS);
+				conf.setLong(SampleDataSetModel.INPUT_SIZE, INPUT_SIZE);
+				conf.setBoolean(SampleDataSetModel.INPUT_COMPR, false);
+
+				BasicFIFOScheduler scheduler = new BasicFIFOScheduler(
+						BenchmarkData.getCluster(NUM_NODES));
+				scheduler.checkpoint();
+				JobProfileOracle oracle = new JobProfileOracle(data
+						.getJobProfile(job));
+				oracle.setCacheCapacity(0);
+				costEngine = new WhatIfCostEngine(new WhatIfEngine(oracle,
+						new SampleDataSetModel(), scheduler), scheduler, conf);
+			}
+
+			@Override
+			public Object invoke() {
+				ParameterDescriptor.setRandomSeed(RANDOM_SEED);
+				ParameterSpace space = ParamSpaceUtils.getFullParamSpace(conf);
+				RecursiveRandomSearch<ParameterSpacePoint> rrs =
+					new RecursiveRandomSearch<ParameterSpacePoint>(conf);
+				return rrs.findBestSpacePoint(space, costEngine);
+			}
+		};
+	}
+
+	/**
+	 * A cost engine that costs each space point sequentially using the
+	 * What-if Engine, like the (single-threaded) RRS job optimizer does
+	 * 
+	 * @author hero
+	 */
+	private static class WhatIfCostEngine implements
+			IRRSCostEngine<ParameterSpacePoint> {
+
+		private WhatIfEngine whatifEngine;
+		private BasicFIFOScheduler scheduler;
+		private JobParameters params;
+		private Date submissionTime;
+
+		public WhatIfCostEngine(WhatIfEngine whatifEngine,
+				BasicFIFOScheduler scheduler, Configuration conf) {
+			this.whatifEngine = whatifEngine;
+			this.scheduler = scheduler;
+			this.params = new JobParameters(conf);
+			this.submissionTime = new Date(0l);
+		}
+
+		@Override
+		public double costSpacePoint(ParameterSpacePoint point) {
+			point.populateParameters(params);
+			scheduler.reset();
+			return whatifEngine.whatIfJobParamsGetTime(submissionTime, params);
+		}
+
+		@Override
+		public double[] costSpacePoints(List<ParameterSpacePoint> points) {
+			double[] costs = new double[points.size()];
+			for (int i = 0; i < costs.length; ++i)
+				costs[i] = costSpacePoint(points.get(i));
+			return costs;
+		}
+	}
+
+}
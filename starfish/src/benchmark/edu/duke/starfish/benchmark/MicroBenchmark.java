@@ -0,0 +1,73 @@
+package edu.duke.starfish.benchmark;
+
+/**
+ * A micro-benchmark of a single operation. The benchmark runner calls
+ * {@link #setUp()} once, and then {@link #invoke()} repeatedly, first to warm
+ * up the JVM and then to measure the time and memory per operation.
+ * 
+ * Implementations should perform all the expensive preparation in setUp and
+ * return the result of the operation from invoke, so that the JIT compiler
+ * cannot eliminate the work.
+ * 
+ * @author hero
+ */
+public abstract class MicroBenchmark {
+
+	/* ***************************************************************
+	 * DATA MEMBERS
+	 * ***************************************************************
+	 */
+
+	private String name; // The benchmark name
+
+	/**
+	 * Constructor
+	 * 
+	 * @param name
+	 *            the benchmark name, in the form Class.method[parameters]
+	 */
+	public MicroBenchmark(String name) {
+		this.name = name;
+	}
+
+	/* ***************************************************************
+	 * GETTERS & SETTERS
+	 * ***************************************************************
+	 */
+
+	/**
+	 * @return the benchmark name
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/* ***************************************************************
+	 * PUBLIC METHODS
+	 * ***************************************************************
+	 */
+
+	/**
+	 * Prepare the inputs of the benchmark. It is not measured.
+	 */
+	public void setUp() {
+	}
+
+	/**
+	 * Perform the operation under measurement once
+	 * 
+	 * @return the result of the operation
+	 */
+	public abstract Object invoke();
+
+	/* ***************************************************************
+	 * OVERRIDEN METHODS
+	 * ***************************************************************
+	 */
+
+	@Override
+	public String toString() {
+		return name;
+	}
+
+}
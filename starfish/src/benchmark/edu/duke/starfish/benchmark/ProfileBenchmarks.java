@@ -0,0 +1,627 @@
+package edu.duke.starfish.benchmark;
+
+import static edu.duke.starfish.profile.utils.Constants.MR_COMBINE_CLASS;
+import static edu.duke.starfish.profile.utils.Constants.MR_RED_TASKS;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.UnsupportedEncodingException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.apache.hadoop.conf.Configuration;
+
+import edu.duke.starfish.profile.profileinfo.ClusterConfiguration;
+import edu.duke.starfish.profile.profileinfo.execution.profile.MRJobProfile;
+import edu.duke.starfish.profile.profileinfo.execution.profile.MRMapProfile;
+import edu.duke.starfish.profile.profileinfo.execution.profile.MRReduceProfile;
+import edu.duke.starfish.profile.profileinfo.execution.profile.MRTaskProfile;
+import edu.duke.starfish.profile.profileinfo.execution.profile.enums.MRCounter;
+import edu.duke.starfish.profile.profiler.loaders.tasks.MRMapProfileLoader;
+import edu.duke.starfish.profile.profiler.loaders.tasks.MRReduceProfileLoader;
+import edu.duke.starfish.profile.utils.BinaryProfileParser;
+import edu.duke.starfish.profile.utils.XMLClusterParser;
+import edu.duke.starfish.profile.utils.XMLProfileParser;
+
+/**
+ * The micro-benchmarks for the Profiler: the import and export of job profiles
+ * and clusters in XML, the averaging of the task profiles of a job profile,
+ * the import of binary job profiles, and the loading of the BTrace task
+ * profiles. The XML bytes are read in memory during the set up, so that the
+ * benchmark does not measure the file system. The binary profiles and the
+ * task profiles are loaded from generated files, which the operating system
+ * will have cached after the warm up.
+ * 
+ * @author hero
+ */
+public class ProfileBenchmarks {
+
+	// The sample jobs with the largest and the smallest profiles
+	private static final String[] JOB_IDS = { "job_201102151322_0330",
+			BenchmarkData.WORDCOUNT_JOB };
+
+	// The generated corpus of task profiles
+	private static final int NUM_MAP_PROFILES = 200;
+	private static final int NUM_MAP_SPILLS = 8;
+	private static final int NUM_RED_PROFILES = 20;
+	private static final int NUM_RED_SEGMENTS = 400;
+	private static final int NUM_RED_MERGES = 4;
+	private static final int NUM_REDUCERS = 20;
+	private static final String JOB_ID = "201011062135_0003";
+
+	// The generated job profile with many map profiles
+	private static final int NUM_XML_MAP_PROFILES = 1000;
+
+	// The generated job profile with one map profile per input
+	private static final int NUM_INPUTS = 1000;
+
+	// The number of nodes of the exported and imported cluster
+	private static final int NUM_XML_NODES = 1000;
+
+	/**
+	 * Create the profile benchmarks
+	 * 
+	 * @param data
+	 *            the benchmark data
+	 * @return the benchmarks
+	 */
+	public static List<MicroBenchmark> create(BenchmarkData data) {
+		List<MicroBenchmark> benchmarks = new ArrayList<MicroBenchmark>();
+		for (String jobId : JOB_IDS)
+			benchmarks.add(createImport(data, jobId));
+		benchmarks.add(createLargeImport(data, JOB_IDS[0],
+				NUM_XML_MAP_PROFILES));
+		benchmarks.add(createExport(data, JOB_IDS[0]));
+		for (String jobId : JOB_IDS)
+			benchmarks.add(createUpdate(data, jobId));
+		for (String jobId : JOB_IDS)
+			benchmarks.add(createBinaryImport(data, jobId));
+		benchmarks.add(createMultiInputImport(data, JOB_IDS[0], NUM_INPUTS,
+				false));
+		benchmarks.add(createMultiInputImport(data, JOB_IDS[0], NUM_INPUTS,
+				true));
+		benchmarks.add(createClusterImport(NUM_XML_NODES));
+		benchmarks.add(createClusterExport(NUM_XML_NODES));
+
+		benchmarks.add(createTaskProfileLoad(true, NUM_MAP_PROFILES));
+		benchmarks.add(createTaskProfileLoad(false, NUM_RED_PROFILES));
+		return benchmarks;
+	}
+
+	/**
+	 * Benchmark the import of a job profile from XML
+	 * 
+	 * @param data
+	 *            the benchmark data
+	 * @param jobId
+	 *            the job id of the profile
+	 * @return the benchmark
+	 */
+	private static MicroBenchmark createImport(final BenchmarkData data,
+			final String jobId) {
+		return new MicroBenchmark("XMLProfileParser.importJobProfile["
+				+ jobId + "]") {
+
+			private byte[] bytes;
+
+			@Override
+			public void setUp() {
+				bytes = BenchmarkData.readFully(data.getJobProfileFile(jobId,
+						false));
+			}
+
+			@Override
+			public Object invoke() {
+				return XMLProfileParser
+						.importJobProfile(new ByteArrayInputStream(bytes));
+			}
+		};
+	}
+
+	/**
+	 * Benchmark the copy of a job profile and the averaging of the task
+	 * profiles of the copy, which is dominated by the profile storage. The
+	 * source profile is marked as shared, like the source profile of a job
+	 * profile oracle.
+	 * 
+	 * @param data
+	 *            the benchmark data
+	 * @param jobId
+	 *            the job id of the profile
+	 * @return the benchmark
+	 */
+	private static MicroBenchmark createUpdate(final BenchmarkData data,
+			final String jobId) {
+		return new MicroBenchmark("MRJobProfile.updateProfile[" + jobId + "]") {
+
+			private MRJobProfile jobProf;
+
+			@Override
+			public void setUp() {
+				jobProf = XMLProfileParser.importJobProfile(data
+						.getJobProfileFile(jobId, false));
+				jobProf.markShared();
+			}
+
+			@Override
+			public Object invoke() {
+				MRJobProfile copy = new MRJobProfile(jobProf);
+				copy.updateProfile();
+				return copy;
+			}
+		};
+	}
+
+	/**
+	 * Benchmark the import of a job profile from XML, where the map profile of
+	 * a sample job is repeated many times
+	 * 
+	 * @param data
+	 *            the benchmark data
+	 * @param jobId
+	 *            the job id of the sample profile
+	 * @param numMapProfiles
+	 *            the number of map profiles
+	 * @return the benchmark
+	 */
+	private static MicroBenchmark createLargeImport(final BenchmarkData data,
+			final String jobId, final int numMapProfiles) {
+		return new MicroBenchmark("XMLProfileParser.importJobProfile"
+				+ "[map_profiles=" + numMapProfiles + "]") {
+
+			private byte[] bytes;
+
+			@Override
+			public void setUp() {
+				String xml = toXML(XMLProfileParser.importJobProfile(data
+						.getJobProfileFile(jobId, false)));
+				int start = xml.indexOf("<map_profile");
+				int end = xml.indexOf("</map_profile>") + 14;
+
+				StringBuilder sb = new StringBuilder(xml.length()
+						+ numMapProfiles * (end - start));
+				sb.append(xml, 0, start);
+				for (int i = 0; i < numMapProfiles; ++i)
+					sb.append(xml, start, end).append('\n');
+				sb.append(xml, end, xml.length());
+				bytes = getUTF8Bytes(sb.toString());
+			}
+
+			@Override
+			public Object invoke() {
+				return XMLProfileParser
+						.importJobProfile(new ByteArrayInputStream(bytes));
+			}
+		};
+	}
+
+	/**
+	 * Benchmark the import of a job profile from a memory-mapped binary file
+	 * 
+	 * @param data
+	 *            the benchmark data
+	 * @param jobId
+	 *            the job id of the profile
+	 * @return the benchmark
+	 */
+	private static MicroBenchmark createBinaryImport(final BenchmarkData data,
+			final String jobId) {
+		return new MicroBenchmark("BinaryProfileParser.importJobProfile["
+				+ jobId + "]") {
+
+			private File file;
+
+			@Override
+			public void setUp() {
+				MRJobProfile profile = XMLProfileParser.importJobProfile(data
+						.getJobProfileFile(jobId, false));
+				file = writeBinaryProfile(profile);
+			}
+
+			@Override
+			public Object invoke() {
+				return BinaryProfileParser.importJobProfile(file);
+			}
+		};
+	}
+
+	/**
+	 * Benchmark the import of a job profile with many inputs, where the map
+	 * profile of a sample job is repeated for each input. The XML profile is
+	 * imported from memory, while the binary profile is imported from a
+	 * memory-mapped file.
+	 * 
+	 * @param data
+	 *            the benchmark data
+	 * @param jobId
+	 *            the job id of the sample profile
+	 * @param numInputs
+	 *            the number of inputs
+	 * @param binary
+	 *            whether to import the binary or the XML profile
+	 * @return the benchmark
+	 */
+	private static MicroBenchmark createMultiInputImport(
+			final BenchmarkData data, final String jobId, final int numInputs,
+			final boolean binary) {
+		return new MicroBenchmark((binary ? "BinaryProfileParser"
+				: "XMLProfileParser")
+				+ ".importJobProfile[inputs=" + numInputs + "]") {
+
+			private File file;
+			private byte[] bytes;
+
+			@Override
+			public void setUp() {
+				MRJobProfile sample = XMLProfileParser.importJobProfile(data
+						.getJobProfileFile(jobId, false));
+				MRJobProfile profile = new MRJobProfile(jobId);
+				profile.addCounter(MRCounter.MAP_TASKS, sample.getCounter(
+						MRCounter.MAP_TASKS, 0l));
+				profile.addCounter(MRCounter.REDUCE_TASKS, sample.getCounter(
+						MRCounter.REDUCE_TASKS, 0l));
+
+				String[] inputs = new String[numInputs];
+				for (int i = 0; i < numInputs; ++i) {
+					inputs[i] = "/input/part-" + i;
+					MRMapProfile mapProf = new MRMapProfile(sample
+							.getAvgMapProfiles().get(0));
+					mapProf.setInputIndex(i);
+					profile.addMapProfile(mapProf);
+				}
+				profile.setJobInputs(inputs);
+				profile.addReduceProfile(new MRReduceProfile(sample
+						.getAvgReduceProfile()));
+				profile.updateProfile();
+
+				if (binary)
+					file = writeBinaryProfile(profile);
+				else
+					bytes = getUTF8Bytes(toXML(profile));
+			}
+
+			@Override
+			public Object invoke() {
+				if (binary)
+					return BinaryProfileParser.importJobProfile(file);
+				else
+					return XMLProfileParser
+							.importJobProfile(new ByteArrayInputStream(bytes));
+			}
+		};
+	}
+
+	/**
+	 * Benchmark the export of a job profile to XML
+	 * 
+	 * @param data
+	 *            the benchmark data
+	 * @param jobId
+	 *            the job id of the profile
+	 * @return the benchmark
+	 */
+	private static MicroBenchmark createExport(final BenchmarkData data,
+			final String jobId) {
+		return new MicroBenchmark("XMLProfileParser.exportJobProfile["
+				+ jobId + "]") {
+
+			private MRJobProfile profile;
+			private ByteArrayOutputStream baos;
+			private PrintStream out;
+
+			@Override
+			public void setUp() {
+				profile = XMLProfileParser.importJobProfile(data
+						.getJobProfileFile(jobId, false));
+				baos = new ByteArrayOutputStream(64 * 1024);
+				out = new PrintStream(baos);
+			}
+
+			@Override
+			public Object invoke() {
+				baos.reset();
+				XMLProfileParser.exportJobProfile(profile, out);
+				return baos;
+			}
+		};
+	}
+
+	/**
+	 * Benchmark the import of a cluster from XML
+	 * 
+	 * @param numNodes
+	 *            the number of nodes of the cluster
+	 * @return the benchmark
+	 */
+	private static MicroBenchmark createClusterImport(final int numNodes) {
+		return new MicroBenchmark("XMLClusterParser.importCluster[nodes="
+				+ numNodes + "]") {
+
+			private byte[] bytes;
+
+			@Override
+			public void setUp() {
+				ByteArrayOutputStream baos = new ByteArrayOutputStream();
+				XMLClusterParser.exportCluster(BenchmarkData
+						.getCluster(numNodes), new PrintStream(baos));
+				bytes = baos.toByteArray();
+			}
+
+			@Override
+			public Object invoke() {
+				return XMLClusterParser.importCluster(new ByteArrayInputStream(
+						bytes));
+			}
+		};
+	}
+
+	/**
+	 * Benchmark the export of a cluster to XML
+	 * 
+	 * @param numNodes
+	 *            the number of nodes of the cluster
+	 * @return the benchmark
+	 */
+	private static MicroBenchmark createClusterExport(final int numNodes) {
+		return new MicroBenchmark("XMLClusterParser.exportCluster[nodes="
+				+ numNodes + "]") {
+
+			private ClusterConfiguration cluster;
+			private ByteArrayOutputStream baos;
+			private PrintStream out;
+
+			@Override
+			public void setUp() {
+				cluster = BenchmarkData.getCluster(numNodes);
+				baos = new ByteArrayOutputStream(256 * 1024);
+				out = new PrintStream(baos);
+			}
+
+			@Override
+			public Object invoke() {
+				baos.reset();
+				XMLClusterParser.exportCluster(cluster, out);
+				return baos;
+			}
+		};
+	}
+
+	/**
+	 * Benchmark the loading of a corpus of generated BTrace task profiles
+	 * 
+	 * @param map
+	 *            whether to load map or reduce task profiles
+	 * @param numFiles
+	 *            the number of task profiles in the corpus
+	 * @return the benchmark
+	 */
+	private static MicroBenchmark createTaskProfileLoad(final boolean map,
+			final int numFiles) {
+		return new MicroBenchmark((map ? "MRMapProfileLoader"
+				: "MRReduceProfileLoader")
+				+ ".loadExecutionProfile[files=" + numFiles + "]") {
+
+			private Configuration conf;
+			private String[] taskIds;
+			private String[] files;
+
+			@Override
+			public void setUp() {
+				conf = new Configuration(false);
+				conf.setInt(MR_RED_TASKS, NUM_REDUCERS);
+				conf.set(MR_COMBINE_CLASS, "Combiner");
+
+				Random random = new Random(numFiles);
+				taskIds = new String[numFiles];
+				files = new String[numFiles];
+				for (int i = 0; i < numFiles; ++i) {
+					taskIds[i] = "attempt_" + JOB_ID + (map ? "_m_" : "_r_")
+							+ String.format("%06d", i) + "_0";
+					File file = map ? generateMapProfile(taskIds[i], random)
+							: generateReduceProfile(taskIds[i], random);
+					files[i] = file.getAbsolutePath();
+				}
+			}
+
+			@Override
+			public Object invoke() {
+				MRTaskProfile last = null;
+				for (int i = 0; i < numFiles; ++i) {
+					if (map) {
+						MRMapProfile prof = new MRMapProfile(taskIds[i]);
+						prof.addCounter(MRCounter.MAP_INPUT_RECORDS, 100000l);
+						prof.addCounter(MRCounter.MAP_OUTPUT_RECORDS, 200000l);
+						new MRMapProfileLoader(prof, conf, files[i])
+								.loadExecutionProfile(prof);
+						last = prof;
+					} else {
+						MRReduceProfile prof = new MRReduceProfile(taskIds[i]);
+						prof.addCounter(MRCounter.REDUCE_INPUT_RECORDS,
+								200000l);
+						new MRReduceProfileLoader(prof, conf, files[i])
+								.loadExecutionProfile(prof);
+						last = prof;
+					}
+				}
+				return last;
+			}
+		};
+	}
+
+	/**
+	 * Generate the BTrace profile file of a map task with a few spills
+	 * 
+	 * @param taskId
+	 *            the task attempt id
+	 * @param random
+	 *            the random generator for the values
+	 * @return the profile file
+	 */
+	private static File generateMapProfile(String taskId, Random random) {
+		StringBuilder sb = new StringBuilder();
+		appendLine(sb, "MAP", "hdfs://localhost:9000/user/hero/input/part-"
+				+ random.nextInt(1000), 0);
+		appendLines(sb, random, "MAP", "STARTUP_MEM", "SETUP", "SETUP_MEM",
+				"CLEANUP", "CLEANUP_MEM", "TOTAL_RUN", "READ", "UNCOMPRESS",
+				"KEY_BYTE_COUNT", "VALUE_BYTE_COUNT", "MAP", "WRITE",
+				"COMPRESS", "PARTITION_OUTPUT", "SERIALIZE_OUTPUT", "MAP_MEM");
+		for (int i = 0; i < NUM_MAP_SPILLS; ++i)
+			appendLines(sb, random, "SPILL", "SORT_AND_SPILL", "QUICK_SORT",
+					"SORT_COUNT", "COMBINE", "WRITE", "COMPRESS",
+					"UNCOMPRESS_BYTE_COUNT", "COMPRESS_BYTE_COUNT");
+		appendLines(sb, random, "MERGE", "TOTAL_MERGE", "READ_WRITE",
+				"READ_WRITE_COUNT", "UNCOMPRESS", "COMPRESS");
+		appendLines(sb, random, "MAP", "WRITE", "COMPRESS", "KEY_BYTE_COUNT",
+				"VALUE_BYTE_COUNT");
+		appendLines(sb, random, "TASK", "TOTAL_RUN");
+		return writeProfile(taskId, sb);
+	}
+
+	/**
+	 * Generate the BTrace profile file of a reduce task with many shuffled
+	 * segments and a few merges during the shuffle
+	 * 
+	 * @param taskId
+	 *            the task attempt id
+	 * @param random
+	 *            the random generator for the values
+	 * @return the profile file
+	 */
+	private static File generateReduceProfile(String taskId, Random random) {
+		StringBuilder sb = new StringBuilder();
+		for (int i = 0; i < NUM_RED_SEGMENTS; ++i) {
+			appendLines(sb, random, "SHUFFLE", "UNCOMPRESS_BYTE_COUNT",
+					"COMPRESS_BYTE_COUNT", "COPY_MAP_DATA", "UNCOMPRESS");
+			if ((i + 1) % (NUM_RED_SEGMENTS / NUM_RED_MERGES) == 0)
+				appendLines(sb, random, "MERGE", "MERGE_IN_MEMORY",
+						"READ_WRITE", "READ_WRITE_COUNT", "COMBINE", "WRITE",
+						"UNCOMPRESS", "COMPRESS");
+		}
+		appendLines(sb, random, "SORT", "MERGE_MAP_DATA", "READ_WRITE",
+				"READ_WRITE_COUNT", "UNCOMPRESS", "COMPRESS");
+		appendLines(sb, random, "REDUCE", "STARTUP_MEM", "SETUP",
+				"SETUP_MEM", "CLEANUP", "CLEANUP_MEM", "TOTAL_RUN", "READ",
+				"UNCOMPRESS", "REDUCE", "WRITE", "COMPRESS", "KEY_BYTE_COUNT",
+				"VALUE_BYTE_COUNT", "REDUCE_MEM", "WRITE", "COMPRESS");
+		appendLines(sb, random, "TASK", "TOTAL_RUN");
+		return writeProfile(taskId, sb);
+	}
+
+	/**
+	 * Append a profile line for each process, with random values
+	 * 
+	 * @param sb
+	 *            the string builder
+	 * @param random
+	 *            the random generator for the values
+	 * @param token
+	 *            the profile token
+	 * @param processes
+	 *            the processes
+	 */
+	private static void appendLines(StringBuilder sb, Random random,
+			String token, String... processes) {
+		for (String process : processes)
+			appendLine(sb, token, process, 1 + random.nextInt(1000000000));
+	}
+
+	/**
+	 * Append a single profile line
+	 * 
+	 * @param sb
+	 *            the string builder
+	 * @param token
+	 *            the profile token
+	 * @param process
+	 *            the process
+	 * @param value
+	 *            the value
+	 */
+	private static void appendLine(StringBuilder sb, String token,
+			String process, long value) {
+		sb.append(token).append('\t').append(process).append('\t').append(
+				value).append('\n');
+	}
+
+	/**
+	 * @param profile
+	 *            the job profile
+	 * @return the XML representation of the job profile
+	 */
+	private static String toXML(MRJobProfile profile) {
+		ByteArrayOutputStream baos = new ByteArrayOutputStream();
+		XMLProfileParser.exportJobProfile(profile, new PrintStream(baos));
+		try {
+			return baos.toString("UTF-8");
+		} catch (UnsupportedEncodingException e) {
+			throw new RuntimeException("ERROR: UTF-8 is not supported", e);
+		}
+	}
+
+	/**
+	 * @param str
+	 *            the string
+	 * @return the UTF-8 bytes of the string
+	 */
+	private static byte[] getUTF8Bytes(String str) {
+		try {
+			return str.getBytes("UTF-8");
+		} catch (UnsupportedEncodingException e) {
+			throw new RuntimeException("ERROR: UTF-8 is not supported", e);
+		}
+	}
+
+	/**
+	 * Write the job profile in a temporary binary file, which is deleted when
+	 * the JVM exits
+	 * 
+	 * @param profile
+	 *            the job profile
+	 * @return the binary profile file
+	 */
+	private static File writeBinaryProfile(MRJobProfile profile) {
+		try {
+			File file = File.createTempFile(profile.getJobId(),
+					BinaryProfileParser.BINARY_EXT);
+			file.deleteOnExit();
+			BinaryProfileParser.exportJobProfile(profile, file);
+			return file;
+		} catch (IOException e) {
+			throw new RuntimeException("ERROR: Unable to write the profile of "
+					+ profile.getJobId(), e);
+		}
+	}
+
+	/**
+	 * Write a generated task profile in a temporary file, which is deleted
+	 * when the JVM exits
+	 * 
+	 * @param taskId
+	 *            the task attempt id
+	 * @param sb
+	 *            the profile contents
+	 * @return the profile file
+	 */
+	private static File writeProfile(String taskId, StringBuilder sb) {
+		try {
+			File file = File.createTempFile(taskId, ".profile");
+			file.deleteOnExit();
+			FileWriter writer = new FileWriter(file);
+			try {
+				writer.write(sb.toString());
+			} finally {
+				writer.close();
+			}
+			return file;
+		} catch (IOException e) {
+			throw new RuntimeException("ERROR: Unable to write the profile of "
+					+ taskId, e);
+		}
+	}
+
+}
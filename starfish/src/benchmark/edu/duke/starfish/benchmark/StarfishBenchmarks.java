@@ -0,0 +1,270 @@
+package edu.duke.starfish.benchmark;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.TreeSet;
+import java.util.regex.Pattern;
+
+/**
+ * The driver of the Starfish micro-benchmarks. It runs the what-if, job
+ * optimizer, and profile benchmarks, prints their time and allocation per
+ * operation, and either compares the results against the stored baseline or
+ * stores the results as the new baseline.
+ * 
+ * Usage: StarfishBenchmarks &lt;data_dir&gt; &lt;baseline_file&gt;
+ * [compare|save]
+ * 
+ * The data directory is the directory where samples/sample_profiles.tar.gz
+ * was extracted. The runs are controlled by the following system properties:
+ * <ul>
+ * <li>benchmark.filter: a regex for the names of the benchmarks to run</li>
+ * <li>benchmark.warmup: the number of warm up iterations</li>
+ * <li>benchmark.iterations: the number of measurement iterations</li>
+ * <li>benchmark.time.ms: the duration of each iteration</li>
+ * <li>benchmark.max.time.regression: the allowed time increase (fraction)</li>
+ * <li>benchmark.max.alloc.regression: the allowed allocation increase
+ * (fraction)</li>
+ * <li>benchmark.fail.on.regression: whether to fail on regressions</li>
+ * </ul>
+ * 
+ * @author hero
+ */
+public class StarfishBenchmarks {
+
+	// System properties
+	public static final String FILTER = "benchmark.filter";
+	public static final String WARMUP = "benchmark.warmup";
+	public static final String ITERATIONS = "benchmark.iterations";
+	public static final String TIME_MS = "benchmark.time.ms";
+	public static final String MAX_TIME_REGR = "benchmark.max.time.regression";
+	public static final String MAX_ALLOC_REGR = "benchmark.max.alloc.regression";
+	public static final String FAIL_ON_REGR = "benchmark.fail.on.regression";
+
+	// Default values
+	private static final int DEF_WARMUP = 3;
+	private static final int DEF_ITERATIONS = 5;
+	private static final long DEF_TIME_MS = 1000l;
+	private static final double DEF_MAX_TIME_REGR = 0.25d;
+	private static final double DEF_MAX_ALLOC_REGR = 0.10d;
+
+	// Modes
+	private static final String COMPARE = "compare";
+	private static final String SAVE = "save";
+
+	private static final String BASELINE_HEADER = "Baseline of the Starfish "
+			+ "micro-benchmarks (ns/op and bytes/op). The timings are specific "
+			+ "to the machine that produced them; regenerate them with "
+			+ "'ant benchmark-baseline' before comparing on another machine.";
+
+	/**
+	 * Run the benchmarks
+	 * 
+	 * @param args
+	 *            the data directory, the baseline file, and the mode
+	 */
+	public static void main(String[] args) {
+		if (args.length < 2 || args.length > 3
+				|| (args.length == 3 && !args[2].equals(COMPARE) && !args[2]
+						.equals(SAVE))) {
+			System.err.println("Usage: StarfishBenchmarks <data_dir> "
+					+ "<baseline_file> [compare|save]");
+			System.exit(-1);
+		}
+
+		BenchmarkData data = new BenchmarkData(new File(args[0]));
+		File baselineFile = new File(args[1]);
+		boolean save = args.length == 3 && args[2].equals(SAVE);
+
+		// Create the benchmarks
+		List<MicroBenchmark> benchmarks = new ArrayList<MicroBenchmark>();
+		benchmarks.addAll(WhatIfBenchmarks.create(data));
+		benchmarks.addAll(JobOptBenchmarks.create(data));
+		benchmarks.addAll(ProfileBenchmarks.create(data));
+
+		Pattern filter = Pattern.compile(System.getProperty(FILTER, ".*"));
+		BenchmarkRunner runner = new BenchmarkRunner(Integer.getInteger(
+				WARMUP, DEF_WARMUP), Integer.getInteger(ITERATIONS,
+				DEF_ITERATIONS), Long.getLong(TIME_MS, DEF_TIME_MS));
+
+		// Run the benchmarks
+		List<BenchmarkResult> results = new ArrayList<BenchmarkResult>();
+		for (MicroBenchmark benchmark : benchmarks) {
+			if (filter.matcher(benchmark.getName()).find()) {
+				BenchmarkResult result = runner.run(benchmark);
+				System.out.println(result);
+				results.add(result);
+			}
+		}
+
+		if (save) {
+			saveBaseline(baselineFile, results);
+			System.out.println("Stored the baseline in "
+					+ baselineFile.getAbsolutePath());
+		} else {
+			int numRegressions = compareBaseline(baselineFile, results);
+			if (numRegressions > 0 && Boolean.getBoolean(FAIL_ON_REGR)) {
+				System.err.println("ERROR: Found " + numRegressions
+						+ " regression(s)");
+				System.exit(1);
+			}
+		}
+	}
+
+	/**
+	 * Compare the results against the baseline and print the differences
+	 * 
+	 * @param baselineFile
+	 *            the baseline file
+	 * @param results
+	 *            the benchmark results
+	 * @return the number of regressions
+	 */
+	private static int compareBaseline(File baselineFile,
+			List<BenchmarkResult> results) {
+		if (!baselineFile.isFile()) {
+			System.out.println("No baseline found in "
+					+ baselineFile.getAbsolutePath());
+			return 0;
+		}
+
+		Properties props = loadProperties(baselineFile);
+		double maxTimeRegr = getDouble(MAX_TIME_REGR, DEF_MAX_TIME_REGR);
+		double maxAllocRegr = getDouble(MAX_ALLOC_REGR, DEF_MAX_ALLOC_REGR);
+
+		System.out.println();
+		System.out.println(String.format("%-60s %12s %12s", "Benchmark",
+				"Time", "Alloc"));
+
+		int numRegressions = 0;
+		for (BenchmarkResult result : results) {
+			BenchmarkResult base = BenchmarkResult.load(props, result
+					.getName());
+			if (base == null) {
+				System.out.println(String.format("%-60s %12s %12s", result
+						.getName(), "-", "-"));
+				continue;
+			}
+
+			double timeDiff = getChange(base.getScore(), result.getScore());
+			double allocDiff = getChange(base.getAllocNorm(), result
+					.getAllocNorm());
+			boolean regression = timeDiff > maxTimeRegr
+					|| allocDiff > maxAllocRegr;
+			if (regression)
+				++numRegressions;
+
+			System.out.println(String.format("%-60s %+11.1f%% %+11.1f%% %s",
+					result.getName(), 100 * timeDiff, 100 * allocDiff,
+					regression ? "REGRESSION" : ""));
+		}
+
+		return numRegressions;
+	}
+
+	/**
+	 * Store the results as the new baseline. The results of the benchmarks
+	 * that were not run are retained.
+	 * 
+	 * @param baselineFile
+	 *            the baseline file
+	 * @param results
+	 *            the benchmark results
+	 */
+	private static void saveBaseline(File baselineFile,
+			List<BenchmarkResult> results) {
+		Properties props = baselineFile.isFile() ? loadProperties(baselineFile)
+				: new Properties();
+		for (BenchmarkResult result : results)
+			result.store(props);
+
+		// Write the properties in sorted order to produce stable diffs
+		OutputStream out = null;
+		try {
+			out = new FileOutputStream(baselineFile);
+			StringBuilder sb = new StringBuilder();
+			sb.append("# ").append(BASELINE_HEADER).append('\n');
+			for (String key : new TreeSet<String>(props.stringPropertyNames()))
+				sb.append(escape(key)).append('=').append(
+						props.getProperty(key)).append('\n');
+			out.write(sb.toString().getBytes("ISO-8859-1"));
+		} catch (IOException e) {
+			throw new RuntimeException("ERROR: Unable to write the baseline "
+					+ baselineFile.getAbsolutePath(), e);
+		} finally {
+			try {
+				if (out != null)
+					out.close();
+			} catch (IOException e) {
+			}
+		}
+	}
+
+	/**
+	 * @param file
+	 *            the properties file
+	 * @return the loaded properties
+	 */
+	private static Properties loadProperties(File file) {
+		Properties props = new Properties();
+		InputStream in = null;
+		try {
+			in = new FileInputStream(file);
+			props.load(in);
+		} catch (IOException e) {
+			throw new RuntimeException("ERROR: Unable to read the baseline "
+					+ file.getAbsolutePath(), e);
+		} finally {
+			try {
+				if (in != null)
+					in.close();
+			} catch (IOException e) {
+			}
+		}
+		return props;
+	}
+
+	/**
+	 * @param base
+	 *            the baseline value
+	 * @param value
+	 *            the new value
+	 * @return the relative change, or 0 if any of the values is unknown
+	 */
+	private static double getChange(double base, double value) {
+		if (base <= 0 || value < 0)
+			return 0d;
+		return (value - base) / base;
+	}
+
+	/**
+	 * @param name
+	 *            the system property
+	 * @param defValue
+	 *            the default value
+	 * @return the value of the system property as a double
+	 */
+	private static double getDouble(String name, double defValue) {
+		String value = System.getProperty(name);
+		return (value == null) ? defValue : Double.parseDouble(value);
+	}
+
+	/**
+	 * Escape the characters of a property key that are special in the
+	 * properties file format
+	 * 
+	 * @param key
+	 *            the key
+	 * @return the escaped key
+	 */
+	private static String escape(String key) {
+		return key.replaceAll("([=: \\\\])", "\\\\$1");
+	}
+
+}
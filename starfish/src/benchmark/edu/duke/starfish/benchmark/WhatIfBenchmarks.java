@@ -0,0 +1,554 @@
+package edu.duke.starfish.benchmark;
+
+import static edu.duke.starfish.profile.utils.Constants.MR_INPUT_DIR;
+import static edu.duke.starfish.profile.utils.Constants.MR_RED_TASKS;
+import static edu.duke.starfish.profile.utils.Constants.MR_SORT_MB;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+
+import org.apache.hadoop.conf.Configuration;
+
+import edu.duke.starfish.profile.profileinfo.execution.profile.MRJobProfile;
+import edu.duke.starfish.profile.profileinfo.execution.profile.MRMapProfile;
+import edu.duke.starfish.profile.utils.InputSplitCache;
+import edu.duke.starfish.whatif.data.JobParameters;
+import edu.duke.starfish.whatif.data.MapInputSpecs;
+import edu.duke.starfish.whatif.data.RealAvgDataSetModel;
+import edu.duke.starfish.whatif.data.ReduceShuffleSpecs;
+import edu.duke.starfish.whatif.junit.SampleDataSetModel;
+import edu.duke.starfish.whatif.oracle.JobProfileOracle;
+import edu.duke.starfish.whatif.oracle.MapProfileOracle;
+import edu.duke.starfish.whatif.oracle.MergeSimulator;
+import edu.duke.starfish.whatif.oracle.ReduceProfileOracle;
+import edu.duke.starfish.whatif.scheduler.BasicFIFOScheduler;
+import edu.duke.starfish.whatif.scheduler.EventDrivenScheduler;
+import edu.duke.starfish.whatif.scheduler.FIFOSchedulingPolicy;
+import edu.duke.starfish.whatif.scheduler.FairSchedulingPolicy;
+import edu.duke.starfish.whatif.scheduler.ISchedulingPolicy;
+import edu.duke.starfish.whatif.virtualfs.VirtualFSDataSetModel;
+import edu.duke.starfish.whatif.virtualfs.VirtualFileSystem;
+import edu.duke.starfish.whatif.virtualfs.VirtualFileSystem.VirtualFSException;
+
+/**
+ * The micro-benchmarks for the What-if Engine: the map, reduce, and job
+ * profile oracles, the merge simulator, the basic FIFO scheduler, the
+ * event-driven scheduler with concurrent jobs, the virtual file system, and
+ * the input splits of real input files with and without the split cache.
+ * 
+ * @author hero
+ */
+public class WhatIfBenchmarks {
+
+	// The what-if questions of the job profile oracle
+	private static final int WHATIF_NUM_MAPPERS = 20;
+	private static final long WHATIF_INPUT_SIZE = 1000000000l;
+	private static final int WHATIF_SORT_MB_VALUES = 50;
+
+	// The number of nodes of the simulated clusters
+	private static final int[] CLUSTER_SIZES = { 10, 100, 1000 };
+
+	// The job to schedule on the simulated clusters
+	private static final int SCHEDULE_NUM_MAPPERS = 2000;
+	private static final int SCHEDULE_NUM_REDUCERS = 100;
+	private static final long SCHEDULE_INPUT_SIZE = 2000l * 64 * 1024 * 1024;
+
+	// The concurrent jobs on the largest simulated cluster
+	private static final int CONCURRENT_NODES = 1000;
+	private static final int CONCURRENT_JOBS = 10;
+	private static final long CONCURRENT_DELAY = 60000l;
+
+	// The virtual file system layout: files of 100GB in one directory
+	private static final int VFS_CREATE_FILES = 2000;
+	private static final int VFS_INPUT_FILES = 1000;
+	private static final long VFS_FILE_SIZE = 100l * 1024 * 1024 * 1024;
+
+	// The real input files in the local file system
+	private static final int REAL_INPUT_FILES = 1000;
+	private static final int REAL_FILE_SIZE = 100;
+
+	/**
+	 * Create the what-if benchmarks
+	 * 
+	 * @param data
+	 *            the benchmark data
+	 * @return the benchmarks
+	 */
+	public static List<MicroBenchmark> create(BenchmarkData data) {
+		List<MicroBenchmark> benchmarks = new ArrayList<MicroBenchmark>();
+
+		String[] jobs = { BenchmarkData.TERASORT, BenchmarkData.WORDCOUNT };
+		for (String job : jobs)
+			benchmarks.add(createMapWhatIf(data, job));
+		for (String job : jobs)
+			benchmarks.add(createReduceWhatIf(data, job));
+		for (String job : jobs)
+			benchmarks.add(createJobWhatIf(data, job, false));
+		for (String job : jobs)
+			benchmarks.add(createJobWhatIf(data, job, true));
+
+		benchmarks.add(createMapMerge());
+		benchmarks.add(createReduceMerge());
+
+		for (int numNodes : CLUSTER_SIZES)
+			benchmarks.add(createSchedule(data, numNodes));
+		benchmarks.add(createConcurrentSchedule(data, false));
+		benchmarks.add(createConcurrentSchedule(data, true));
+
+		benchmarks.add(createVirtualFiles(VFS_CREATE_FILES));
+		benchmarks.add(createVirtualInputSpecs(VFS_INPUT_FILES));
+		benchmarks.add(createRealInputSpecs(REAL_INPUT_FILES, false));
+		benchmarks.add(createRealInputSpecs(REAL_INPUT_FILES, true));
+
+		return benchmarks;
+	}
+
+	/**
+	 * Benchmark the prediction of a virtual map profile
+	 * 
+	 * @param data
+	 *            the benchmark data
+	 * @param job
+	 *            the sample job
+	 * @return the benchmark
+	 */
+	private static MicroBenchmark createMapWhatIf(final BenchmarkData data,
+			final String job) {
+		return new MicroBenchmark("MapProfileOracle.whatif[" + job + "]") {
+
+			private MapProfileOracle oracle;
+			private JobParameters params;
+			private MapInputSpecs inputSpecs;
+
+			@Override
+			public void setUp() {
+				MRJobProfile jobProf = data.getJobProfile(job);
+				oracle = new MapProfileOracle(jobProf.getAvgMapProfiles()
+						.get(0));
+				params = new JobParameters(data.getConfiguration(job));
+				inputSpecs = data.getMapInputSpecs(job);
+			}
+
+			@Override
+			public Object invoke() {
+				return oracle.whatif(params, inputSpecs);
+			}
+		};
+	}
+
+	/**
+	 * Benchmark the prediction of a virtual reduce profile. The shuffle
+	 * specifications are generated from the predicted map profile.
+	 * 
+	 * @param data
+	 *            the benchmark data
+	 * @param job
+	 *            the sample job
+	 * @return the benchmark
+	 */
+	private static MicroBenchmark createReduceWhatIf(final BenchmarkData data,
+			final String job) {
+		return new MicroBenchmark("ReduceProfileOracle.whatif[" + job + "]") {
+
+			private ReduceProfileOracle oracle;
+			private JobParameters params;
+			private ReduceShuffleSpecs shuffleSpecs;
+
+			@Override
+			public void setUp() {
+				MRJobProfile jobProf = data.getJobProfile(job);
+				oracle = new ReduceProfileOracle(jobProf.getAvgReduceProfile());
+				params = new JobParameters(data.getConfiguration(job));
+
+				MapProfileOracle mapOracle = new MapProfileOracle(jobProf
+						.getAvgMapProfiles().get(0));
+				List<MRMapProfile> mapProfs = new ArrayList<MRMapProfile>(1);
+				mapProfs.add(mapOracle.whatif(params, data
+						.getMapInputSpecs(job)));
+				shuffleSpecs = new SampleDataSetModel()
+						.generateReduceShuffleSpecs(params.getNumReducers(),
+								mapProfs).get(0);
+			}
+
+			@Override
+			public Object invoke() {
+				return oracle.whatif(params, shuffleSpecs);
+			}
+		};
+	}
+
+	/**
+	 * Benchmark a what-if question to the job profile oracle, i.e., the
+	 * prediction of a virtual job profile with its map and reduce profiles.
+	 * The prediction caches are disabled and the questions go over various
+	 * values of io.sort.mb, so that every question goes through the full map
+	 * and reduce predictions. The questions are asked either with the typed
+	 * parameters (like the Job Optimizer does) or with a configuration.
+	 * 
+	 * @param data
+	 *            the benchmark data
+	 * @param job
+	 *            the sample job
+	 * @param useConf
+	 *            whether to ask the questions with a configuration
+	 * @return the benchmark
+	 */
+	private static MicroBenchmark createJobWhatIf(final BenchmarkData data,
+			final String job, final boolean useConf) {
+		return new MicroBenchmark("JobProfileOracle.whatif[" + job
+				+ (useConf ? ",conf" : "") + "]") {
+
+			private JobProfileOracle oracle;
+			private SampleDataSetModel model;
+			private Configuration conf;
+			private JobParameters params;
+			private int count;
+
+			@Override
+			public void setUp() {
+				oracle = new JobProfileOracle(data.getJobProfile(job));
+				oracle.setCacheCapacity(0);
+				model = new SampleDataSetModel();
+
+				conf = data.getConfiguration(job);
+				conf.setInt(SampleDataSetModel.NUM_MAPPERS,
+						WHATIF_NUM_MAPPERS);
+				conf.setLong(SampleDataSetModel.INPUT_SIZE, WHATIF_INPUT_SIZE);
+				conf.setBoolean(SampleDataSetModel.INPUT_COMPR, false);
+				params = new JobParameters(conf);
+				count = 0;
+			}
+
+			@Override
+			public Object invoke() {
+				int sortMB = 50 + 5 * (count++ % WHATIF_SORT_MB_VALUES);
+				if (useConf) {
+					conf.setInt(MR_SORT_MB, sortMB);
+					return oracle.whatif(conf, model);
+				} else {
+					params.setSortMB(sortMB);
+					return oracle.whatif(params, model);
+				}
+			}
+		};
+	}
+
+	/**
+	 * Benchmark the merge simulation of the map-side spills: 64 spills of
+	 * 8MB and a smaller final spill, merged with the combiner enabled
+	 * 
+	 * @return the benchmark
+	 */
+	private static MicroBenchmark createMapMerge() {
+		return new MicroBenchmark("MergeSimulator.simulateMerge[map]") {
+
+			@Override
+			public Object invoke() {
+				MergeSimulator sim = new MergeSimulator();
+				sim.addSegments(64, 8l * 1024 * 1024, 80000);
+				sim.addSegments(1, 3l * 1024 * 1024, 30000);
+				sim.enableCombiner(3, 0.6d, 0.5d);
+				sim.simulateMerge(10);
+				return sim;
+			}
+		};
+	}
+
+	/**
+	 * Benchmark the merge simulation of the reduce-side segments: 1000
+	 * shuffled segments of three different sizes and 20 memory segments,
+	 * without the final merge
+	 * 
+	 * @return the benchmark
+	 */
+	private static MicroBenchmark createReduceMerge() {
+		return new MicroBenchmark("MergeSimulator.simulateMerge[reduce]") {
+
+			@Override
+			public Object invoke() {
+				MergeSimulator sim = new MergeSimulator();
+				sim.addSegments(600, 2l * 1024 * 1024, 20000);
+				sim.addSegments(300, 5l * 1024 * 1024, 50000);
+				sim.addSegments(100, 9l * 1024 * 1024, 90000);
+				sim.addMemSegments(20, 1024 * 1024, 10000);
+				sim.simulateMerge(10, true);
+				return sim;
+			}
+		};
+	}
+
+	/**
+	 * Benchmark the scheduling of a virtual TeraSort job with 2000 map and 100
+	 * reduce tasks on a cluster with the given number of nodes
+	 * 
+	 * @param data
+	 *            the benchmark data
+	 * @param numNodes
+	 *            the number of nodes
+	 * @return the benchmark
+	 */
+	private static MicroBenchmark createSchedule(final BenchmarkData data,
+			final int numNodes) {
+		return new MicroBenchmark("BasicFIFOScheduler.scheduleJobGetJobInfo"
+				+ "[nodes=" + numNodes + "]") {
+
+			private BasicFIFOScheduler scheduler;
+			private MRJobProfile virtualProf;
+			private JobParameters params;
+			private Date submissionTime;
+
+			@Override
+			public void setUp() {
+				Configuration conf = data
+						.getConfiguration(BenchmarkData.TERASORT);
+				conf.setInt(SampleDataSetModel.NUM_MAPPERS,
+						SCHEDULE_NUM_MAPPERS);
+				conf.setLong(SampleDataSetModel.INPUT_SIZE,
+						SCHEDULE_INPUT_SIZE);
+				conf.setBoolean(SampleDataSetModel.INPUT_COMPR, false);
+				conf.setInt(MR_RED_TASKS, SCHEDULE_NUM_REDUCERS);
+
+				JobProfileOracle oracle = new JobProfileOracle(data
+						.getJobProfile(BenchmarkData.TERASORT));
+				params = new JobParameters(conf);
+				virtualProf = oracle.whatif(params, new SampleDataSetModel());
+
+				scheduler = new BasicFIFOScheduler(BenchmarkData
+						.getCluster(numNodes));
+				scheduler.checkpoint();
+				submissionTime = new Date(0l);
+			}
+
+			@Override
+			public Object invoke() {
+				scheduler.reset();
+				return scheduler.scheduleJobGetJobInfo(submissionTime,
+						virtualProf, params);
+			}
+		};
+	}
+
+	/**
+	 * Benchmark the event-driven simulation of a virtual TeraSort job with
+	 * 2000 map and 100 reduce tasks, submitted after 10 similar jobs that
+	 * were submitted one minute apart, on a cluster with 1000 nodes
+	 * 
+	 * @param data
+	 *            the benchmark data
+	 * @param fair
+	 *            whether to use the fair or the FIFO policy
+	 * @return the benchmark
+	 */
+	private static MicroBenchmark createConcurrentSchedule(
+			final BenchmarkData data, final boolean fair) {
+		return new MicroBenchmark("EventDrivenScheduler.scheduleJobGetTime"
+				+ "[nodes=" + CONCURRENT_NODES + ",jobs=" + CONCURRENT_JOBS
+				+ ",policy=" + (fair ? "fair" : "fifo") + "]") {
+
+			private EventDrivenScheduler scheduler;
+			private MRJobProfile virtualProf;
+			private JobParameters params;
+			private Date submissionTime;
+
+			@Override
+			public void setUp() {
+				Configuration conf = data
+						.getConfiguration(BenchmarkData.TERASORT);
+				conf.setInt(SampleDataSetModel.NUM_MAPPERS,
+						SCHEDULE_NUM_MAPPERS);
+				conf.setLong(SampleDataSetModel.INPUT_SIZE,
+						SCHEDULE_INPUT_SIZE);
+				conf.setBoolean(SampleDataSetModel.INPUT_COMPR, false);
+				conf.setInt(MR_RED_TASKS, SCHEDULE_NUM_REDUCERS);
+
+				JobProfileOracle oracle = new JobProfileOracle(data
+						.getJobProfile(BenchmarkData.TERASORT));
+				params = new JobParameters(conf);
+				virtualProf = oracle.whatif(params, new SampleDataSetModel());
+
+				ISchedulingPolicy policy = fair ? new FairSchedulingPolicy()
+						: new FIFOSchedulingPolicy();
+				scheduler = new EventDrivenScheduler(BenchmarkData
+						.getCluster(CONCURRENT_NODES), policy);
+				for (int j = 0; j < CONCURRENT_JOBS; ++j)
+					scheduler.submitJob(new Date(j * CONCURRENT_DELAY),
+							virtualProf, params);
+				scheduler.checkpoint();
+				submissionTime = new Date(CONCURRENT_JOBS * CONCURRENT_DELAY);
+			}
+
+			@Override
+			public Object invoke() {
+				scheduler.reset();
+				return scheduler.scheduleJobGetTime(submissionTime,
+						virtualProf, params);
+			}
+		};
+	}
+
+	/**
+	 * Benchmark the creation of a virtual file system with many large files
+	 * in the same directory
+	 * 
+	 * @param numFiles
+	 *            the number of files
+	 * @return the benchmark
+	 */
+	private static MicroBenchmark createVirtualFiles(final int numFiles) {
+		return new MicroBenchmark("VirtualFileSystem.createFile[files="
+				+ numFiles + "]") {
+
+			@Override
+			public Object invoke() {
+				return createVirtualFileSystem(numFiles);
+			}
+		};
+	}
+
+	/**
+	 * Benchmark the generation of the map input specifications for a glob
+	 * over many large virtual files
+	 * 
+	 * @param numFiles
+	 *            the number of files
+	 * @return the benchmark
+	 */
+	private static MicroBenchmark createVirtualInputSpecs(final int numFiles) {
+		return new MicroBenchmark("VirtualFSDataSetModel.generateMapInputSpecs"
+				+ "[files=" + numFiles + "]") {
+
+			private VirtualFSDataSetModel model;
+			private Configuration conf;
+
+			@Override
+			public void setUp() {
+				model = new VirtualFSDataSetModel(
+						createVirtualFileSystem(numFiles));
+				conf = new Configuration(false);
+				conf.set(VirtualFSDataSetModel.VIRTUAL_INPUT_DIRS,
+						"/data/part-*");
+			}
+
+			@Override
+			public Object invoke() {
+				return model.generateMapInputSpecs(conf);
+			}
+		};
+	}
+
+	/**
+	 * Benchmark the generation of the map input specifications for many real
+	 * files in a local directory, with or without the input split cache. A
+	 * new data set model is created for every invocation, since the model
+	 * caches the specifications of the last job.
+	 * 
+	 * @param numFiles
+	 *            the number of files
+	 * @param cache
+	 *            whether to use the input split cache
+	 * @return the benchmark
+	 */
+	private static MicroBenchmark createRealInputSpecs(final int numFiles,
+			final boolean cache) {
+		return new MicroBenchmark("RealAvgDataSetModel.generateMapInputSpecs"
+				+ "[files=" + numFiles + ",cache=" + cache + "]") {
+
+			private Configuration conf;
+
+			@Override
+			public void setUp() {
+				File cacheDir = createTempDir("split_cache");
+				conf = new Configuration();
+				conf.set(MR_INPUT_DIR, createRealInput(numFiles)
+						.getAbsolutePath());
+				conf.setBoolean(InputSplitCache.SPLIT_CACHE_ENABLED, cache);
+				conf.set(InputSplitCache.SPLIT_CACHE_DIR, cacheDir
+						.getAbsolutePath());
+
+				// Populate the cache and delete it on exit
+				invoke();
+				File[] files = cacheDir.listFiles();
+				for (int i = 0; files != null && i < files.length; ++i)
+					files[i].deleteOnExit();
+			}
+
+			@Override
+			public Object invoke() {
+				return new RealAvgDataSetModel().generateMapInputSpecs(conf);
+			}
+		};
+	}
+
+	/**
+	 * Create a virtual file system with the given number of 100GB files in
+	 * the same directory
+	 * 
+	 * @param numFiles
+	 *            the number of files
+	 * @return the virtual file system
+	 */
+	private static VirtualFileSystem createVirtualFileSystem(int numFiles) {
+		VirtualFileSystem vfs = new VirtualFileSystem();
+		try {
+			for (int i = 0; i < numFiles; ++i)
+				vfs.createFile("/data/part-" + i, VFS_FILE_SIZE, false);
+		} catch (VirtualFSException e) {
+			throw new RuntimeException("ERROR: " + e.getMessage(), e);
+		}
+		return vfs;
+	}
+
+	/**
+	 * Create a local directory with the given number of small files. The
+	 * directory is deleted on exit.
+	 * 
+	 * @param numFiles
+	 *            the number of files
+	 * @return the directory
+	 */
+	private static File createRealInput(int numFiles) {
+		File dir = createTempDir("input");
+		try {
+			char[] contents = new char[REAL_FILE_SIZE];
+			Arrays.fill(contents, 'a');
+			for (int i = 0; i < numFiles; ++i) {
+				File file = new File(dir, "part-" + i);
+				file.deleteOnExit();
+				FileWriter writer = new FileWriter(file);
+				try {
+					writer.write(contents);
+				} finally {
+					writer.close();
+				}
+			}
+		} catch (IOException e) {
+			throw new RuntimeException("ERROR: " + e.getMessage(), e);
+		}
+		return dir;
+	}
+
+	/**
+	 * Create a temporary directory that is deleted on exit, after its files
+	 * 
+	 * @param prefix
+	 *            the directory name prefix
+	 * @return the directory
+	 */
+	private static File createTempDir(String prefix) {
+		try {
+			File dir = File.createTempFile(prefix, "");
+			dir.delete();
+			dir.mkdir();
+			dir.deleteOnExit();
+			return dir;
+		} catch (IOException e) {
+			throw new RuntimeException("ERROR: " + e.getMessage(), e);
+		}
+	}
+
+}
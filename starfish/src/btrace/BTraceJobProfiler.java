@@ -1,6 +1,7 @@
 import java.util.List;
 
 import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.mapred.RunningJob;
 import org.apache.hadoop.mapreduce.InputSplit;
 import org.apache.hadoop.mapreduce.Job;
 import org.apache.hadoop.mapreduce.JobContext;
@@ -58,6 +59,22 @@ public class BTraceJobProfiler {
 		}
 
 		
+		/**
+		 * Probe for registering the job configuration with the profile
+		 * aggregation daemon, if one is configured
+		 */
+		@OnMethod(clazz = "org.apache.hadoop.mapred.JobClient", 
+				method = "submitJobInternal", 
+				location = @Location(value = Kind.RETURN))
+		public static void onJobClient_submitJobInternal_return(AnyType input, @Return RunningJob job) {
+
+			Configuration conf = (Configuration) input;
+			if (job != null && conf.getBoolean(Constants.MR_TASK_PROFILE, false)) {
+				Profiler.registerJobWithAggregator(conf, job.getID().toString());
+			}
+		}
+
+		
 		/**
 		 * Probe for performing task sampling
 		 */
@@ -6,8 +6,11 @@ import static com.sun.btrace.BTraceUtils.used;
 import static com.sun.btrace.BTraceUtils.heapUsage;
 
 import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.mapred.Counters;
+import org.apache.hadoop.mapred.Reporter;
 import org.apache.hadoop.mapreduce.InputSplit;
 import org.apache.hadoop.mapreduce.Mapper;
+import org.apache.hadoop.mapreduce.Reducer;
 import org.apache.hadoop.mapreduce.lib.input.FileSplit;
 import org.apache.log4j.Level;
 import org.apache.log4j.Logger;
@@ -35,6 +38,22 @@ import com.sun.btrace.annotations.Where;
  * be used by the map- or reduce-related parts). Also, writing to the same
  * file from multiple classes is not thread-safe.
  * 
+ * The per-record probes (reading, processing, and writing the records) can
+ * profile only a sample of the map input records or reduce input groups:
+ * (a) 1 in every N records, where N is set by
+ *     "starfish.profiler.record.sampling.interval" (default 1), or
+ * (b) the records of a fraction F of every second of the task, where F is set
+ *     by "starfish.profiler.record.sampling.time.fraction" (default 1).
+ * In that case, the total and sampled number of records are printed as SAMPLE
+ * records and the profile loaders extrapolate the per-record durations and
+ * byte counts. The time fraction takes precedence over the interval. When
+ * sampling is off, the per-record probes only add a flag check to the full
+ * profiling.
+ * 
+ * When the task is done, its Hadoop counters are printed as COUNTER records,
+ * so that the profile can be loaded without the job history (e.g., by the
+ * profile aggregation daemon while the job is running).
+ * 
  * Supported Hadoop versions: v0.20.2 and v0.20.203.0
  * Unless otherwise noted, the methods instrument both versions
  * 
@@ -76,6 +95,60 @@ public class BTraceTaskProfile {
 		println(strcat("TASK\tTOTAL_RUN\t", str(duration)));
 	}
 
+	/* ***********************************************************
+	 * TASK COUNTERS
+	 * **********************************************************/
+	@OnMethod(clazz = "org.apache.hadoop.mapred.Task", 
+			method = "done", 
+			location = @Location(value = Kind.RETURN))
+	public static void onTask_done_return(AnyType umbilical, AnyType taskReporter) {
+		// The counters are final after the task is done
+		Reporter reporter = (Reporter) taskReporter;
+		String task = "org.apache.hadoop.mapred.Task$Counter";
+		printCounter(reporter, task, "MAP_INPUT_RECORDS");
+		printCounter(reporter, task, "MAP_INPUT_BYTES");
+		printCounter(reporter, task, "MAP_OUTPUT_RECORDS");
+		printCounter(reporter, task, "MAP_OUTPUT_BYTES");
+		printCounter(reporter, task, "MAP_OUTPUT_MATERIALIZED_BYTES");
+		printCounter(reporter, task, "MAP_SKIPPED_RECORDS");
+		printCounter(reporter, task, "COMBINE_INPUT_RECORDS");
+		printCounter(reporter, task, "COMBINE_OUTPUT_RECORDS");
+		printCounter(reporter, task, "REDUCE_SHUFFLE_BYTES");
+		printCounter(reporter, task, "REDUCE_INPUT_GROUPS");
+		printCounter(reporter, task, "REDUCE_INPUT_RECORDS");
+		printCounter(reporter, task, "REDUCE_OUTPUT_RECORDS");
+		printCounter(reporter, task, "REDUCE_SKIPPED_RECORDS");
+		printCounter(reporter, task, "REDUCE_SKIPPED_GROUPS");
+		printCounter(reporter, task, "SPILLED_RECORDS");
+		printCounter(reporter, task, "SPLIT_RAW_BYTES");
+
+		String fs = "FileSystemCounters";
+		printCounter(reporter, fs, "FILE_BYTES_READ");
+		printCounter(reporter, fs, "FILE_BYTES_WRITTEN");
+		printCounter(reporter, fs, "HDFS_BYTES_READ");
+		printCounter(reporter, fs, "HDFS_BYTES_WRITTEN");
+	}
+
+	// Looking up a counter creates it, so only the non-zero ones are printed
+	private static void printCounter(Reporter reporter, String group, String name) {
+		Counters.Counter counter = reporter.getCounter(group, name);
+		if (counter != null && counter.getCounter() != 0l)
+			println(strcat(strcat(strcat("COUNTER\t", name), "\t"), str(counter.getCounter())));
+	}
+
+	/* ***********************************************************
+	 * RECORD SAMPLING
+	 * **********************************************************/
+	private static final long RECORD_SAMPLING_PERIOD = 1000000000l;
+
+	@TLS private static boolean recordSampling = false;
+	@TLS private static int recordSamplingInterval = 1;
+	@TLS private static long recordSamplingWindow = 0l;
+	@TLS private static long recordSamplingStartTime = 0l;
+	@TLS private static long numRecords = 0l;
+	@TLS private static long numSampledRecords = 0l;
+	@TLS private static boolean sampleRecord = true;
+
 	/* ***********************************************************
 	 * HANDLE COMPRESSION
 	 * **********************************************************/
@@ -193,6 +266,18 @@ public class BTraceTaskProfile {
 			method = "run", 
 			location = @Location(value = Kind.ENTRY))
 	public static void onMapper_run_Entry(Mapper<?,?,?,?>.Context context) {
+		Configuration conf = context.getConfiguration();
+		recordSamplingInterval = conf.getInt("starfish.profiler.record.sampling.interval", 1);
+		if (recordSamplingInterval < 1)
+			recordSamplingInterval = 1;
+		float fraction = conf.getFloat("starfish.profiler.record.sampling.time.fraction", 1f);
+		recordSamplingWindow = (fraction > 0f && fraction < 1f) ? (long) (fraction * RECORD_SAMPLING_PERIOD) : 0l;
+		recordSampling = recordSamplingInterval > 1 || recordSamplingWindow > 0l;
+		recordSamplingStartTime = timeNanos();
+		numRecords = 0l;
+		numSampledRecords = 0l;
+		sampleRecord = true;
+
 		InputSplit split = context.getInputSplit();
 		if (split instanceof FileSplit) {
 			println(strcat(strcat("MAP\t", ((FileSplit) split).getPath().toString()), "\t0"));
@@ -205,21 +290,24 @@ public class BTraceTaskProfile {
 			method = "nextKeyValue", 
 			location = @Location(value = Kind.RETURN))
 	public static void onMapContext_nextKeyValue_return(@Duration long duration) {
-		mapInputDuration += duration;
+		if (sampleRecord)
+			mapInputDuration += duration;
 	}
 	
 	@OnMethod(clazz = "org.apache.hadoop.mapreduce.MapContext", 
 			method = "getCurrentKey", 
 			location = @Location(value = Kind.RETURN))
 	public static void onMapContext_getCurrentKey_return(@Duration long duration) {
-		mapInputDuration += duration;
+		if (sampleRecord)
+			mapInputDuration += duration;
 	}
 
 	@OnMethod(clazz = "org.apache.hadoop.mapreduce.MapContext", 
 			method = "getCurrentValue", 
 			location = @Location(value = Kind.RETURN))
 	public static void onMapContext_getCurrentValue_return(@Duration long duration) {
-		mapInputDuration += duration;
+		if (sampleRecord)
+			mapInputDuration += duration;
 	}
 
 	
@@ -235,21 +323,35 @@ public class BTraceTaskProfile {
 			method = "run", 
 			location = @Location(where=Where.BEFORE, value = Kind.CALL, clazz="/.*/", method="map"))
 	public static void onMapper_run_Before_Call_map() {
-		mapProcessingStartTime = timeNanos();
+		if (sampleRecord)
+			mapProcessingStartTime = timeNanos();
 	}
 
 	@OnMethod(clazz = "org.apache.hadoop.mapreduce.Mapper", 
 			method = "run", 
 			location = @Location(where=Where.AFTER, value = Kind.CALL, clazz="/.*/", method="map"))
 	public static void onMapper_run_After_Call_map(AnyType k, AnyType v, AnyType c) {
-		try {
-			if (k != null)
-				mapInputKByteCount += k.toString().getBytes("UTF-8").length;
-			if (v != null)
-				mapInputVByteCount += v.toString().getBytes("UTF-8").length;
-		} catch (Exception e) {}
-		
-		mapProcessingDuration += timeNanos() - mapProcessingStartTime;
+		if (sampleRecord) {
+			try {
+				if (k != null)
+					mapInputKByteCount += k.toString().getBytes("UTF-8").length;
+				if (v != null)
+					mapInputVByteCount += v.toString().getBytes("UTF-8").length;
+			} catch (Exception e) {}
+			
+			mapProcessingDuration += timeNanos() - mapProcessingStartTime;
+		}
+
+		if (recordSampling) {
+			// Count the record and decide whether to sample the next one
+			++numRecords;
+			if (sampleRecord)
+				++numSampledRecords;
+			if (recordSamplingWindow > 0l)
+				sampleRecord = (timeNanos() - recordSamplingStartTime) % RECORD_SAMPLING_PERIOD < recordSamplingWindow;
+			else
+				sampleRecord = (numRecords % recordSamplingInterval == 0);
+		}
 	}
 
 	
@@ -266,21 +368,24 @@ public class BTraceTaskProfile {
 			method = "write", 
 			location = @Location(value = Kind.RETURN))
 	public static void onNewOutputCollector_write_return(@Duration long duration) {
-		mapCollectorWriteDuration += duration;
+		if (sampleRecord)
+			mapCollectorWriteDuration += duration;
 	}
 
 	@OnMethod(clazz = "org.apache.hadoop.mapred.MapTask$NewOutputCollector", 
 			method = "write", 
 			location = @Location(where=Where.BEFORE, value = Kind.CALL, clazz="/.*/", method="getPartition"))
 	public static void onNewOutputCollector_write_Before_Call_getPartition() {
-		mapPartitionStartTime = timeNanos();
+		if (sampleRecord)
+			mapPartitionStartTime = timeNanos();
 	}
 
 	@OnMethod(clazz = "org.apache.hadoop.mapred.MapTask$NewOutputCollector", 
 			method = "write", 
 			location = @Location(where=Where.AFTER, value = Kind.CALL, clazz="/.*/", method="getPartition"))
 	public static void onNewOutputCollector_write_After_Call_getPartition() {
-		mapPartitionDuration += timeNanos() - mapPartitionStartTime;
+		if (sampleRecord)
+			mapPartitionDuration += timeNanos() - mapPartitionStartTime;
 	}
 	
 	@OnMethod(clazz = "org.apache.hadoop.mapred.MapTask$NewOutputCollector", 
@@ -300,14 +405,16 @@ public class BTraceTaskProfile {
 			method = "collect", 
 			location = @Location(where=Where.AFTER, value = Kind.CALL, clazz="/.*/", method="unlock"))
 	public static void onMapOutputBuffer_collect_after_await() {
-		mapBufferCollectStartTime = timeNanos();
+		if (sampleRecord)
+			mapBufferCollectStartTime = timeNanos();
 	}
 	
 	@OnMethod(clazz = "org.apache.hadoop.mapred.MapTask$MapOutputBuffer", 
 			method = "collect", 
 			location = @Location(value = Kind.RETURN))
 	public static void onMapOutputBuffer_collect_return() {
-		mapBufferCollectDuration += timeNanos() - mapBufferCollectStartTime;
+		if (sampleRecord)
+			mapBufferCollectDuration += timeNanos() - mapBufferCollectStartTime;
 	}
 
 	
@@ -322,6 +429,9 @@ public class BTraceTaskProfile {
 			method = "write", 
 			location = @Location(value = Kind.RETURN))
 	public static void onNewDirectOutputCollector_write_return(@Duration long duration, AnyType k, AnyType v) {
+		if (!sampleRecord)
+			return;
+
 		mapCollectorWriteDuration += duration;
 		try {
 			if (k != null)
@@ -469,6 +579,11 @@ public class BTraceTaskProfile {
 		println(strcat("MAP\tSERIALIZE_OUTPUT\t", str(mapBufferCollectDuration)));
 		println(strcat("MAP\tMAP_MEM\t", str(used(heapUsage()))));
 
+		if (recordSampling) {
+			println(strcat("SAMPLE\tRECORDS\t", str(numRecords)));
+			println(strcat("SAMPLE\tSAMPLED_RECORDS\t", str(numSampledRecords)));
+		}
+
 		uncompressDuration = 0l;
 		compressDuration = 0l;
 	}
@@ -683,6 +798,25 @@ public class BTraceTaskProfile {
 	 * **********************************************************/
 	@TLS private static long reducerSetupStartTime = 0l;
 
+	@OnMethod(clazz = "org.apache.hadoop.mapreduce.Reducer", 
+			method = "run", 
+			location = @Location(value = Kind.ENTRY))
+	public static void onReducer_run_Entry(Reducer<?,?,?,?>.Context context) {
+		if (onReducer) {
+			Configuration conf = context.getConfiguration();
+			recordSamplingInterval = conf.getInt("starfish.profiler.record.sampling.interval", 1);
+			if (recordSamplingInterval < 1)
+				recordSamplingInterval = 1;
+			float fraction = conf.getFloat("starfish.profiler.record.sampling.time.fraction", 1f);
+			recordSamplingWindow = (fraction > 0f && fraction < 1f) ? (long) (fraction * RECORD_SAMPLING_PERIOD) : 0l;
+			recordSampling = recordSamplingInterval > 1 || recordSamplingWindow > 0l;
+			recordSamplingStartTime = timeNanos();
+			numRecords = 0l;
+			numSampledRecords = 0l;
+			sampleRecord = true;
+		}
+	}
+
 	@OnMethod(clazz="org.apache.hadoop.mapreduce.Reducer", 
 			  method="run", 
 			  location=@Location(where=Where.BEFORE, value=Kind.CALL, clazz="/.*/", method="setup"))
@@ -714,7 +848,7 @@ public class BTraceTaskProfile {
 			method = "nextKey", 
 			location = @Location(value = Kind.RETURN))
 	public static void onReduceContext_nextKey_return(@Duration long duration) {
-		if (onReducer)
+		if (onReducer && sampleRecord)
 			reduceInputDuration += duration;
 	}
 	
@@ -722,7 +856,7 @@ public class BTraceTaskProfile {
 			method = "getCurrentKey", 
 			location = @Location(value = Kind.RETURN))
 	public static void onReduceContext_getCurrentKey_return(@Duration long duration) {
-		if (onReducer)
+		if (onReducer && sampleRecord)
 			reduceInputDuration += duration;
 	}
 
@@ -730,7 +864,7 @@ public class BTraceTaskProfile {
 			method = "getValues", 
 			location = @Location(value = Kind.RETURN))
 	public static void onReduceContext_getValues_return(@Duration long duration) {
-		if (onReducer)
+		if (onReducer && sampleRecord)
 			reduceInputDuration += duration;
 	}
 
@@ -745,7 +879,7 @@ public class BTraceTaskProfile {
 			method = "run", 
 			location = @Location(where=Where.BEFORE, value = Kind.CALL, clazz="/.*/", method="reduce"))
 	public static void onReducer_run_Before_Call_reduce() {
-		if (onReducer)
+		if (onReducer && sampleRecord)
 			reduceProcessingStartTime = timeNanos();
 	}
 
@@ -753,8 +887,22 @@ public class BTraceTaskProfile {
 			method = "run", 
 			location = @Location(where=Where.AFTER, value = Kind.CALL, clazz="/.*/", method="reduce"))
 	public static void onReducer_run_After_Call_reduce() {
-		if (onReducer)
+		if (!onReducer)
+			return;
+
+		if (sampleRecord)
 			reduceProcessingDuration += timeNanos() - reduceProcessingStartTime;
+
+		if (recordSampling) {
+			// Count the key group and decide whether to sample the next one
+			++numRecords;
+			if (sampleRecord)
+				++numSampledRecords;
+			if (recordSamplingWindow > 0l)
+				sampleRecord = (timeNanos() - recordSamplingStartTime) % RECORD_SAMPLING_PERIOD < recordSamplingWindow;
+			else
+				sampleRecord = (numRecords % recordSamplingInterval == 0);
+		}
 	}
 
 	
@@ -770,7 +918,7 @@ public class BTraceTaskProfile {
 			method = "write", 
 			location = @Location(value = Kind.RETURN))
 	public static void onNewTrackingRecordWriter_write_return(@Duration long duration, AnyType k, AnyType v) {
-		if (onReducer) {
+		if (onReducer && sampleRecord) {
 			reduceWriteDuration += duration;
 			try {
 				if (k != null)
@@ -859,6 +1007,11 @@ public class BTraceTaskProfile {
 			println(strcat("REDUCE\tVALUE_BYTE_COUNT\t", str(reduceWriteVByteCount)));
 			println(strcat("REDUCE\tREDUCE_MEM\t", str(used(heapUsage()))));
 
+			if (recordSampling) {
+				println(strcat("SAMPLE\tRECORDS\t", str(numRecords)));
+				println(strcat("SAMPLE\tSAMPLED_RECORDS\t", str(numSampledRecords)));
+			}
+
 			uncompressDuration = 0l;
 			compressDuration = 0l;
 		}
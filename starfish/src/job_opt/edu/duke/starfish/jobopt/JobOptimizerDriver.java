@@ -21,8 +21,8 @@ import org.apache.hadoop.fs.Path;
 import edu.duke.starfish.jobopt.optimizer.JobOptimizer;
 import edu.duke.starfish.profile.profileinfo.ClusterConfiguration;
 import edu.duke.starfish.profile.profileinfo.execution.profile.MRJobProfile;
+import edu.duke.starfish.profile.profiler.ProfileAggregatorClient;
 import edu.duke.starfish.profile.utils.XMLClusterParser;
-import edu.duke.starfish.profile.utils.XMLProfileParser;
 import edu.duke.starfish.whatif.data.DataSetModel;
 import edu.duke.starfish.whatif.data.FixedInputSpecsDataSetModel;
 import edu.duke.starfish.whatif.data.MapInputSpecs;
@@ -44,11 +44,12 @@ import edu.duke.starfish.whatif.scheduler.IWhatIfScheduler;
  *  
  *   -profile &lt;file&gt; -conf &lt;file&gt;
  *      [-mode {full|smart_full|rrs|smart_rrs}]
- *      [-scheduler {basic|advanced} -output &lt;file&gt;]
+ *      [-scheduler {advanced|fifo|fair|capacity} -output &lt;file&gt;]
  *   
  *   -profile &lt;file&gt; -input &lt;file&gt; -cluster &lt;file&gt;
  *      [-mode {full|smart_full|rrs|smart_rrs}]
- *      [-conf &lt;file&gt; -scheduler {basic|advanced} -output &lt;file&gt;]
+ *      [-conf &lt;file&gt; -scheduler {advanced|fifo|fair|capacity}
+ *       -output &lt;file&gt;]
  *   
  *   -help
  * 
@@ -64,7 +65,8 @@ import edu.duke.starfish.whatif.scheduler.IWhatIfScheduler;
  *   -input &lt;file&gt;    The input specifications file (XML file)
  *   -cluster &lt;file&gt;  The cluster specifications file (XML file)
  *   -mode &lt;option&gt;   The optimization mode
- *   -scheduler       The task scheduler to use (basic, advanced)
+ *   -scheduler       The task scheduler to use (advanced, fifo, fair,
+ *                    capacity)
  *   -output &lt;file&gt;   An optional file to write the output to
  *   -help            Display detailed instructions
  * 
@@ -120,6 +122,9 @@ public class JobOptimizerDriver {
 	// Scheduler options
 	private static final String SCH_BASIC = "basic";
 	private static final String SCH_ADVANCED = "advanced";
+	private static final String SCH_FIFO = "fifo";
+	private static final String SCH_FAIR = "fair";
+	private static final String SCH_CAPACITY = "capacity";
 
 	private static final Log LOG = LogFactory.getLog(JobOptimizerDriver.class);
 
@@ -195,14 +200,14 @@ public class JobOptimizerDriver {
 		IWhatIfScheduler scheduler = null;
 		if (line.hasOption(SCHEDULER)) {
 			scheduler = JobOptimizer.getTaskScheduler(cluster,
-					line.getOptionValue(SCHEDULER));
+					line.getOptionValue(SCHEDULER), conf);
 		} else {
 			scheduler = new BasicFIFOScheduler(cluster);
 		}
 
 		// Get the job profile
-		MRJobProfile sourceProf = XMLProfileParser.importJobProfile(new File(
-				line.getOptionValue(PROFILE)));
+		MRJobProfile sourceProf = ProfileAggregatorClient.importJobProfile(line
+				.getOptionValue(PROFILE));
 
 		// Get the job profile oracle
 		JobProfileOracle jobOracle = new JobProfileOracle(sourceProf);
@@ -246,7 +251,8 @@ public class JobOptimizerDriver {
 		Option modeOption = OptionBuilder.withArgName(MODE).hasArg()
 				.withDescription("Optimization mode options").create(MODE);
 		Option profileOption = OptionBuilder.withArgName(PROFILE).hasArg()
-				.withDescription("The job profile file").create(PROFILE);
+				.withDescription("The job profile file or aggregator location")
+				.create(PROFILE);
 		Option confOption = OptionBuilder.withArgName(CONF).hasArg()
 				.withDescription("The job configuration file").create(CONF);
 		Option schedulerOption = OptionBuilder.withArgName(SCHEDULER).hasArg()
@@ -343,7 +349,9 @@ public class JobOptimizerDriver {
 			printUsage(System.err);
 			System.exit(-1);
 		} else {
-			ensureFileExists(line.getOptionValue(PROFILE));
+			String profile = line.getOptionValue(PROFILE);
+			if (!ProfileAggregatorClient.isAggregatorLocation(profile))
+				ensureFileExists(profile);
 		}
 
 		// Check for the options input and cluster
@@ -379,12 +387,17 @@ public class JobOptimizerDriver {
 
 		}
 
-		// The scheduler is optional. Available options: {basic|advanced}
+		// The scheduler is optional.
+		// Available options: {basic|advanced|fifo|fair|capacity}
 		if (line.hasOption(SCHEDULER)) {
-			if (!line.getOptionValue(SCHEDULER).equals(SCH_BASIC)
-					&& !line.getOptionValue(SCHEDULER).equals(SCH_ADVANCED)) {
+			String scheduler = line.getOptionValue(SCHEDULER);
+			if (!scheduler.equals(SCH_BASIC)
+					&& !scheduler.equals(SCH_ADVANCED)
+					&& !scheduler.equals(SCH_FIFO)
+					&& !scheduler.equals(SCH_FAIR)
+					&& !scheduler.equals(SCH_CAPACITY)) {
 				System.err.println("The only supported scheduler options "
-						+ "are 'basic' and 'advanced'");
+						+ "are 'advanced', 'fifo', 'fair', and 'capacity'");
 				printUsage(System.err);
 				System.exit(-1);
 			}
@@ -420,12 +433,13 @@ public class JobOptimizerDriver {
 		out.println(" The optimizer's parameters must be one of:");
 		out.println("   -profile <file> -conf <file>");
 		out.println("       [-mode {full|smart_full|rrs|smart_rrs}]");
-		out.println("       [-scheduler {basic|advanced} -output <file>]");
+		out.println("       [-scheduler {advanced|fifo|fair|capacity} "
+				+ "-output <file>]");
 		out.println("");
 		out.println("   -profile <file> -input <file> -cluster <file>");
 		out.println("       [-mode {full|smart_full|rrs|smart_rrs}]");
 		out.println("       [-conf <file> "
-				+ "-scheduler {basic|advanced} -output <file>]");
+				+ "-scheduler {advanced|fifo|fair|capacity} -output <file>]");
 		out.println("");
 		out.println("  -help");
 		out.println("");
@@ -441,6 +455,8 @@ public class JobOptimizerDriver {
 		out.println("");
 		out.println("Description of parameter flags:");
 		out.println("  -profile <file>  " + "The job profile (XML file)");
+		out.println("                   "
+				+ "or aggregator://<host>:<port>/<job_id>");
 		out.println("  -conf <file>     "
 				+ "The job configuration file (XML file)");
 		out.println("  -input <file>    "
@@ -449,7 +465,7 @@ public class JobOptimizerDriver {
 				+ "The cluster specifications file (XML file)");
 		out.println("  -mode <option>   " + "The optimization mode");
 		out.println("  -scheduler       "
-				+ "The task scheduler to use (basic, advanced)");
+				+ "The task scheduler to use (advanced, fifo, fair, capacity)");
 		out.println("  -output <file>   "
 				+ "An optional file to write the output to");
 		out.println("  -help            " + "Display detailed instructions");
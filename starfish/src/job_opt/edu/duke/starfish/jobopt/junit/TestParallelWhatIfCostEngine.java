@@ -0,0 +1,156 @@
+package edu.duke.starfish.jobopt.junit;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import junit.framework.TestCase;
+
+import org.apache.hadoop.conf.Configuration;
+import org.junit.Test;
+
+import edu.duke.starfish.jobopt.optimizer.FullEnumJobOptimizer;
+import edu.duke.starfish.jobopt.optimizer.JobOptimizer;
+import edu.duke.starfish.jobopt.optimizer.JobWhatIfWorker;
+import edu.duke.starfish.jobopt.optimizer.ParallelWhatIfCostEngine;
+import edu.duke.starfish.jobopt.optimizer.RRSJobOptimizer;
+import edu.duke.starfish.jobopt.optimizer.SmartEnumJobOptimizer;
+import edu.duke.starfish.jobopt.params.ParameterDescriptor;
+import edu.duke.starfish.jobopt.space.ParamSpaceUtils;
+import edu.duke.starfish.jobopt.space.ParameterSpace;
+import edu.duke.starfish.jobopt.space.ParameterSpacePoint;
+import edu.duke.starfish.profile.profileinfo.ClusterConfiguration;
+import edu.duke.starfish.profile.profileinfo.execution.profile.MRJobProfile;
+import edu.duke.starfish.whatif.WhatIfEngine;
+import edu.duke.starfish.whatif.data.JobParameters;
+import edu.duke.starfish.whatif.junit.SampleDataSetModel;
+import edu.duke.starfish.whatif.junit.SampleProfiles;
+import edu.duke.starfish.whatif.oracle.JobProfileOracle;
+import edu.duke.starfish.whatif.scheduler.BasicFIFOScheduler;
+
+/**
+ * Test the ParallelWhatIfCostEngine
+ * 
+ * @author hero
+ */
+public class TestParallelWhatIfCostEngine extends TestCase {
+
+	/**
+	 * Test method for
+	 * {@link ParallelWhatIfCostEngine#costSpacePoints(List, Date)}
+	 */
+	@Test
+	public void testCostSpacePoints() {
+		// Common elements
+		ClusterConfiguration cluster = SampleProfiles.getClusterConfiguration();
+		SampleDataSetModel model = new SampleDataSetModel();
+		Date submissionTime = new Date();
+
+		MRJobProfile jobProf = SampleProfiles.getTeraSortJobProfile();
+		Configuration conf = getTeraSortConfiguration();
+		JobProfileOracle oracle = new JobProfileOracle(jobProf);
+		BasicFIFOScheduler scheduler = new BasicFIFOScheduler(cluster);
+		scheduler.checkpoint();
+
+		// Generate a grid of points
+		ParameterSpace space = ParamSpaceUtils.getFullParamSpace(conf);
+		List<ParameterSpacePoint> points = space.getSpacePointGrid(false, 2);
+
+		// Cost the points in parallel
+		List<JobWhatIfWorker> workers = new ArrayList<JobWhatIfWorker>(4);
+		for (int i = 0; i < 4; ++i) {
+			workers.add(new JobWhatIfWorker(oracle, model, scheduler));
+			workers.get(i).setParameters(new JobParameters(conf));
+		}
+		ParallelWhatIfCostEngine<ParameterSpacePoint> engine =
+			new ParallelWhatIfCostEngine<ParameterSpacePoint>(workers);
+		double[] costs = engine.costSpacePoints(points, submissionTime);
+		engine.shutdown();
+
+		// Cost the points sequentially and compare
+		WhatIfEngine whatif = new WhatIfEngine(oracle, model, scheduler);
+		assertEquals(points.size(), costs.length);
+		for (int i = 0; i < points.size(); ++i) {
+			points.get(i).populateConfiguration(conf);
+			scheduler.reset();
+			assertEquals(whatif.whatIfJobConfGetTime(submissionTime, conf),
+					costs[i], 0.000001);
+		}
+	}
+
+	/**
+	 * Test that the job optimizers return the same results regardless of the
+	 * number of threads used
+	 */
+	@Test
+	public void testOptimizerDeterminism() {
+		for (int type = 0; type < 2; ++type) {
+			JobOptimizer sequential = runOptimizer(type, 1);
+			JobOptimizer parallel = runOptimizer(type, 4);
+
+			assertEquals(sequential.getBestRunningTime(), parallel
+					.getBestRunningTime(), 0.000001);
+			assertEquals(toString(sequential.getBestConfiguration(false)),
+					toString(parallel.getBestConfiguration(false)));
+		}
+	}
+
+	/**
+	 * Run an RRS (type 0) or smart enumeration (type 1) job optimizer on the
+	 * TeraSort profile with a fixed random seed
+	 * 
+	 * @param type
+	 *            the optimizer type
+	 * @param numThreads
+	 *            the number of threads
+	 * @return the optimizer after optimization
+	 */
+	private JobOptimizer runOptimizer(int type, int numThreads) {
+		ClusterConfiguration cluster = SampleProfiles.getClusterConfiguration();
+		SampleDataSetModel model = new SampleDataSetModel();
+		MRJobProfile jobProf = SampleProfiles.getTeraSortJobProfile();
+		Configuration conf = getTeraSortConfiguration();
+		conf.setInt(JobOptimizer.JOB_OPT_NUM_THREADS, numThreads);
+
+		JobOptimizer optimizer;
+		if (type == 0) {
+			optimizer = new RRSJobOptimizer(new JobProfileOracle(jobProf),
+					model, new BasicFIFOScheduler(cluster), cluster, conf);
+		} else {
+			optimizer = new SmartEnumJobOptimizer(
+					new JobProfileOracle(jobProf), model,
+					new BasicFIFOScheduler(cluster), cluster, conf);
+		}
+
+		ParameterDescriptor.setRandomSeed(23);
+		optimizer.optimize(new Date(0));
+		return optimizer;
+	}
+
+	/**
+	 * @return the TeraSort configuration with the input specs set
+	 */
+	private Configuration getTeraSortConfiguration() {
+		Configuration conf = SampleProfiles.getTeraSortConfiguration();
+		conf.setInt(SampleDataSetModel.NUM_MAPPERS, 5);
+		conf.setLong(SampleDataSetModel.INPUT_SIZE, 20000000l);
+		conf.setBoolean(SampleDataSetModel.INPUT_COMPR, false);
+		conf.setBoolean(FullEnumJobOptimizer.USE_RANDOM_VALUES, false);
+		conf.setInt(FullEnumJobOptimizer.NUM_VALUES_PER_PARAM, 2);
+		return conf;
+	}
+
+	/**
+	 * @param conf
+	 *            the configuration
+	 * @return a sorted string representation of the configuration
+	 */
+	private String toString(Configuration conf) {
+		TreeMap<String, String> sorted = new TreeMap<String, String>();
+		for (Map.Entry<String, String> entry : conf)
+			sorted.put(entry.getKey(), entry.getValue());
+		return sorted.toString();
+	}
+}
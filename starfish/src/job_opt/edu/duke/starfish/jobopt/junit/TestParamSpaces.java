@@ -4,6 +4,7 @@ import java.util.List;
 
 import junit.framework.TestCase;
 
+import org.apache.hadoop.conf.Configuration;
 import org.junit.Test;
 
 import edu.duke.starfish.jobopt.params.BooleanParamDescriptor;
@@ -14,6 +15,8 @@ import edu.duke.starfish.jobopt.params.ParamTaskEffect;
 import edu.duke.starfish.jobopt.space.MultiJobParamSpacePoint;
 import edu.duke.starfish.jobopt.space.MultiJobParameterSpace;
 import edu.duke.starfish.jobopt.space.ParameterSpace;
+import edu.duke.starfish.jobopt.space.ParameterSpacePoint;
+import edu.duke.starfish.whatif.data.JobParameters;
 
 /**
  * Test the parameter space classes
@@ -193,4 +196,71 @@ public class TestParamSpaces extends TestCase {
 				.getJobSpacePoint(1).toString());
 	}
 
+	@Test
+	public void testParamSpacePointValues() {
+
+		ParameterSpacePoint point = new ParameterSpacePoint();
+		point.addParamValue(HadoopParameter.SORT_MB, "120");
+		point.addParamValue(HadoopParameter.SPILL_PERC, "0.65");
+		point.addParamValue(HadoopParameter.COMPRESS_MAP_OUT, "true");
+		point.addParamValue(HadoopParameter.INMEM_MERGE, "1000");
+
+		assertEquals(4, point.getAllParameters().size());
+		assertEquals("120", point.getParameterValue(HadoopParameter.SORT_MB));
+		assertEquals("0.65", point
+				.getParameterValue(HadoopParameter.SPILL_PERC));
+		assertEquals("true", point
+				.getParameterValue(HadoopParameter.COMPRESS_MAP_OUT));
+		assertNull(point.getParameterValue(HadoopParameter.RED_TASKS));
+		assertEquals("ParameterSpacePoint [values={io.sort.mb=120, "
+				+ "io.sort.spill.percent=0.65, "
+				+ "mapred.inmem.merge.threshold=1000, "
+				+ "mapred.compress.map.output=true}]", point.toString());
+
+		// Copies and merges
+		ParameterSpacePoint copy = new ParameterSpacePoint(point);
+		assertEquals(point, copy);
+		assertEquals(point.hashCode(), copy.hashCode());
+
+		copy.addParamValues(new ParameterSpacePoint(HadoopParameter.RED_TASKS,
+				"10"));
+		assertFalse(point.equals(copy));
+		assertEquals("10", copy.getParameterValue(HadoopParameter.RED_TASKS));
+		assertEquals("120", copy.getParameterValue(HadoopParameter.SORT_MB));
+	}
+
+	@Test
+	public void testParamSpacePointPopulate() {
+
+		ParameterSpacePoint point = new ParameterSpacePoint();
+		point.addParamValue(HadoopParameter.SORT_MB, "200");
+		point.addParamValue(HadoopParameter.SORT_REC_PERC, "0.15");
+		point.addParamValue(HadoopParameter.RED_TASKS, "27");
+		point.addParamValue(HadoopParameter.SHUFFLE_MERGE_PERC, "0.7");
+		point.addParamValue(HadoopParameter.RED_SLOWSTART_MAPS, "0.33");
+		point.addParamValue(HadoopParameter.COMBINE, "false");
+		point.addParamValue(HadoopParameter.COMPRESS_OUT, "true");
+
+		// Populating the parameters directly must match the configuration
+		Configuration conf = new Configuration(false);
+		JobParameters params = new JobParameters(conf);
+		point.populateParameters(params);
+		point.populateConfiguration(conf);
+		JobParameters expected = new JobParameters(conf);
+
+		assertEquals(expected.getSortMB(), params.getSortMB());
+		assertEquals(expected.getSortRecPerc(), params.getSortRecPerc());
+		assertEquals(expected.getNumReducers(), params.getNumReducers());
+		assertEquals(expected.getShuffleMergePerc(), params
+				.getShuffleMergePerc());
+		assertEquals(expected.getRedSlowstartMaps(), params
+				.getRedSlowstartMaps());
+		assertEquals(expected.isCombinerUsed(), params.isCombinerUsed());
+		assertEquals(expected.isOutputCompressionOn(), params
+				.isOutputCompressionOn());
+		assertEquals(200, params.getSortMB());
+		assertEquals(27, params.getNumReducers());
+		assertTrue(params.isOutputCompressionOn());
+	}
+
 }
@@ -1,11 +1,15 @@
 package edu.duke.starfish.jobopt.junit;
 
+import java.io.File;
+import java.io.IOException;
+
 import junit.framework.TestCase;
 
 import org.apache.hadoop.conf.Configuration;
 import org.junit.Test;
 
 import edu.duke.starfish.jobopt.optimizer.FullEnumJobOptimizer;
+import edu.duke.starfish.jobopt.optimizer.JobOptimizer;
 import edu.duke.starfish.jobopt.optimizer.RRSJobOptimizer;
 import edu.duke.starfish.jobopt.params.ParameterDescriptor;
 import edu.duke.starfish.profile.profileinfo.ClusterConfiguration;
@@ -15,7 +19,11 @@ import edu.duke.starfish.whatif.junit.SampleDataSetModel;
 import edu.duke.starfish.whatif.junit.SampleProfiles;
 import edu.duke.starfish.whatif.oracle.JobProfileOracle;
 import edu.duke.starfish.whatif.scheduler.BasicFIFOScheduler;
+import edu.duke.starfish.whatif.scheduler.EventDrivenScheduler;
 import edu.duke.starfish.whatif.scheduler.IWhatIfScheduler;
+import edu.duke.starfish.whatif.virtualfs.VirtualFileSystem;
+import edu.duke.starfish.whatif.virtualfs.XMLVirtualFSParser;
+import edu.duke.starfish.whatif.virtualfs.VirtualFileSystem.VirtualFSException;
 
 /**
  * Test the FullEnumJobOptimizer
@@ -100,4 +108,86 @@ public class TestRRSJobOptimizer extends TestCase {
 
 	}
 
+	/**
+	 * Test method for
+	 * {@link edu.duke.starfish.jobopt.optimizer.JobOptimizer#optimize()} with
+	 * a time budget
+	 */
+	@Test
+	public void testTimeBudget() {
+		ClusterConfiguration cluster = SampleProfiles.getClusterConfiguration();
+		SampleDataSetModel model = new SampleDataSetModel();
+		MRJobProfile tsJobProf = SampleProfiles.getTeraSortJobProfile();
+		Configuration tsConf = SampleProfiles.getTeraSortConfiguration();
+		tsConf.setInt(SampleDataSetModel.NUM_MAPPERS, 5);
+		tsConf.setLong(SampleDataSetModel.INPUT_SIZE, 20000000l);
+		tsConf.setBoolean(SampleDataSetModel.INPUT_COMPR, false);
+
+		// Optimize without a budget
+		ParameterDescriptor.setRandomSeed(23);
+		RRSJobOptimizer optimizer = new RRSJobOptimizer(new JobProfileOracle(
+				tsJobProf), model, new BasicFIFOScheduler(cluster), cluster,
+				tsConf);
+		optimizer.optimize();
+		int fullCalls = optimizer.getNumWhatIfCalls();
+
+		// Optimize with a budget that runs out during the first samples
+		tsConf.setLong(JobOptimizer.JOB_OPT_TIME_BUDGET, 1l);
+		ParameterDescriptor.setRandomSeed(23);
+		optimizer = new RRSJobOptimizer(new JobProfileOracle(tsJobProf),
+				model, new BasicFIFOScheduler(cluster), cluster, tsConf);
+		optimizer.optimize();
+
+		// The best configuration found so far is still complete
+		Configuration bestConf = optimizer.getBestConfiguration(true);
+		assertNotNull(bestConf.get(Constants.MR_SORT_MB));
+		assertNotNull(bestConf.get(Constants.MR_RED_TASKS));
+		assertTrue(optimizer.getBestRunningTime() > 0);
+
+		// The search stops well before the search without a budget
+		assertTrue(optimizer.getNumWhatIfCalls() > 0);
+		assertTrue(optimizer.getNumWhatIfCalls() < fullCalls / 4);
+	}
+
+	/**
+	 * Test method for
+	 * {@link edu.duke.starfish.jobopt.optimizer.JobOptimizer#getTaskScheduler(ClusterConfiguration, String, Configuration)}
+	 * with a virtual file system
+	 */
+	@Test
+	public void testGetTaskScheduler() throws IOException, VirtualFSException {
+		ClusterConfiguration cluster = SampleProfiles.getClusterConfiguration();
+		Configuration conf = new Configuration(false);
+		conf.setBoolean(EventDrivenScheduler.LOCALITY_AWARE, true);
+
+		EventDrivenScheduler scheduler = (EventDrivenScheduler) JobOptimizer
+				.getTaskScheduler(cluster, "fifo", conf);
+		assertTrue(scheduler.isLocalityAware());
+		assertNull(scheduler.getVirtualFileSystem());
+
+		// The scheduler places the maps based on the virtual file system
+		VirtualFileSystem vfs = new VirtualFileSystem();
+		vfs.createFile("/input/words.txt", 60l << 26, false, 1l << 26, 3);
+		File vfsFile = File.createTempFile("vfs", ".xml");
+		try {
+			XMLVirtualFSParser.exportVirtualFileSystem(vfs, vfsFile);
+			conf.set(EventDrivenScheduler.VIRTUAL_FS_FILE, vfsFile
+					.getAbsolutePath());
+			scheduler = (EventDrivenScheduler) JobOptimizer.getTaskScheduler(
+					cluster, "fair", conf);
+			assertEquals(1, scheduler.getVirtualFileSystem().listFiles(
+					"/input", true).size());
+		} finally {
+			vfsFile.delete();
+		}
+
+		// A virtual file system that cannot be loaded is an error
+		try {
+			JobOptimizer.getTaskScheduler(cluster, "fair", conf);
+			fail("Expected an error for a missing virtual file system");
+		} catch (RuntimeException e) {
+			assertTrue(e.getMessage().contains(vfsFile.getAbsolutePath()));
+		}
+	}
+
 }
@@ -0,0 +1,109 @@
+package edu.duke.starfish.jobopt.junit;
+
+import static edu.duke.starfish.profile.utils.Constants.MR_INPUT_DIR;
+import static edu.duke.starfish.profile.utils.Constants.MR_OUTPUT_DIR;
+
+import java.util.Date;
+
+import junit.framework.TestCase;
+
+import org.apache.hadoop.conf.Configuration;
+import org.junit.Test;
+
+import edu.duke.starfish.jobopt.optimizer.JobOptimizer;
+import edu.duke.starfish.jobopt.optimizer.WorkflowOptimizer;
+import edu.duke.starfish.jobopt.params.ParameterDescriptor;
+import edu.duke.starfish.profile.profileinfo.ClusterConfiguration;
+import edu.duke.starfish.profile.utils.Constants;
+import edu.duke.starfish.whatif.WorkflowWhatIfEngine;
+import edu.duke.starfish.whatif.junit.SampleDataSetModel;
+import edu.duke.starfish.whatif.junit.SampleProfiles;
+import edu.duke.starfish.whatif.oracle.JobProfileOracle;
+import edu.duke.starfish.whatif.scheduler.BasicFIFOScheduler;
+
+/**
+ * Test the WorkflowOptimizer
+ * 
+ * @author hero
+ */
+public class TestWorkflowOptimizer extends TestCase {
+
+	/**
+	 * Test method for {@link WorkflowOptimizer#optimize(Date)}
+	 */
+	@Test
+	public void testOptimize() {
+		ClusterConfiguration cluster = SampleProfiles.getClusterConfiguration();
+		int[] numThreads = { 1, 4 };
+
+		// The slots become ready when the schedulers are created, so the
+		// workflows are submitted after all schedulers are created
+		WorkflowWhatIfEngine engine = createWorkflow(new BasicFIFOScheduler(
+				cluster));
+		WorkflowOptimizer[] optimizers =
+			new WorkflowOptimizer[numThreads.length];
+		for (int t = 0; t < numThreads.length; ++t) {
+			Configuration conf = new Configuration(false);
+			conf.setInt(JobOptimizer.JOB_OPT_NUM_THREADS, numThreads[t]);
+			optimizers[t] = new WorkflowOptimizer(createWorkflow(
+					new BasicFIFOScheduler(cluster)), cluster, conf);
+		}
+		Date submissionTime = new Date();
+
+		// The time of the workflow with the current settings
+		engine.getScheduler().checkpoint();
+		double currTime = engine.whatIfWorkflowGetTime(submissionTime);
+
+		// Optimize the workflow sequentially and in parallel
+		double[] bestTimes = new double[numThreads.length];
+		for (int t = 0; t < numThreads.length; ++t) {
+			ParameterDescriptor.setRandomSeed(23);
+			optimizers[t].optimize(submissionTime);
+			bestTimes[t] = optimizers[t].getBestRunningTime();
+
+			// Both jobs get a configuration
+			assertEquals(2, optimizers[t].getBestMRJobInfos().size());
+			for (int i = 0; i < 2; ++i) {
+				Configuration bestConf = optimizers[t].getBestConfiguration(i,
+						true);
+				assertNotNull(bestConf.get(Constants.MR_SORT_MB));
+				assertNotNull(bestConf.get(Constants.MR_RED_TASKS));
+				assertNotNull(bestConf.get(MR_OUTPUT_DIR));
+				assertNull(optimizers[t].getBestConfiguration(i, false).get(
+						MR_OUTPUT_DIR));
+			}
+		}
+
+		// The result does not depend on the number of threads
+		assertTrue(bestTimes[0] <= currTime);
+		assertEquals(bestTimes[0], bestTimes[1], 0.000001);
+	}
+
+	/**
+	 * Create a workflow where the WordCount job reads the output of the
+	 * TeraSort job
+	 * 
+	 * @param scheduler
+	 *            the scheduler
+	 * @return the workflow what-if engine
+	 */
+	private WorkflowWhatIfEngine createWorkflow(BasicFIFOScheduler scheduler) {
+		Configuration tsConf = SampleProfiles.getTeraSortConfiguration();
+		tsConf.set(MR_INPUT_DIR, "/user/hero/tera/in");
+		tsConf.set(MR_OUTPUT_DIR, "/user/hero/tera/out");
+		tsConf.setInt(SampleDataSetModel.NUM_MAPPERS, 5);
+		tsConf.setLong(SampleDataSetModel.INPUT_SIZE, 20000000l);
+
+		Configuration wcConf = SampleProfiles.getWordCountConfiguration();
+		wcConf.set(MR_INPUT_DIR, "/user/hero/tera/out");
+		wcConf.set(MR_OUTPUT_DIR, "/user/hero/wc/out");
+
+		WorkflowWhatIfEngine engine = new WorkflowWhatIfEngine(scheduler);
+		engine.addJob(new JobProfileOracle(SampleProfiles
+				.getTeraSortJobProfile()), new SampleDataSetModel(), tsConf);
+		engine.addJob(new JobProfileOracle(SampleProfiles
+				.getWordCountJobProfile()), new SampleDataSetModel(), wcConf);
+		return engine;
+	}
+
+}
@@ -0,0 +1,24 @@
+package edu.duke.starfish.jobopt.optimizer;
+
+import java.util.Date;
+
+/**
+ * Interface for the what-if components owned by a single worker thread of
+ * the {@link ParallelWhatIfCostEngine}. A worker is only used by one thread
+ * at a time, so it can keep state about the last prediction.
+ * 
+ * @author hero
+ */
+public interface IWhatIfWorker<P> {
+
+	/**
+	 * Ask the what-if question for a single space point
+	 * 
+	 * @param point
+	 *            the space point
+	 * @param submissionTime
+	 *            the submission time
+	 * @return the estimated running time
+	 */
+	public double whatif(P point, Date submissionTime);
+}
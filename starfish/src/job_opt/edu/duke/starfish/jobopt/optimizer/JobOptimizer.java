@@ -7,8 +7,10 @@ import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.PrintStream;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Date;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 
@@ -21,14 +23,24 @@ import edu.duke.starfish.jobopt.space.ParameterSpacePoint;
 import edu.duke.starfish.profile.profileinfo.ClusterConfiguration;
 import edu.duke.starfish.profile.profileinfo.execution.jobs.MRJobInfo;
 import edu.duke.starfish.profile.profileinfo.execution.profile.MRJobProfile;
+import edu.duke.starfish.profile.profiler.MRJobLogsManager;
 import edu.duke.starfish.profile.profiler.Profiler;
 import edu.duke.starfish.profile.utils.ProfileUtils;
 import edu.duke.starfish.whatif.WhatIfEngine;
 import edu.duke.starfish.whatif.data.DataSetModel;
+import edu.duke.starfish.whatif.data.JobParameters;
 import edu.duke.starfish.whatif.data.RealAvgDataSetModel;
+import edu.duke.starfish.whatif.data.ReduceSkewModel;
 import edu.duke.starfish.whatif.oracle.JobProfileOracle;
 import edu.duke.starfish.whatif.scheduler.BasicFIFOScheduler;
+import edu.duke.starfish.whatif.scheduler.CapacitySchedulingPolicy;
+import edu.duke.starfish.whatif.scheduler.EventDrivenScheduler;
+import edu.duke.starfish.whatif.scheduler.FIFOSchedulingPolicy;
+import edu.duke.starfish.whatif.scheduler.FairSchedulingPolicy;
+import edu.duke.starfish.whatif.scheduler.ISchedulingPolicy;
 import edu.duke.starfish.whatif.scheduler.IWhatIfScheduler;
+import edu.duke.starfish.whatif.virtualfs.VirtualFileSystem;
+import edu.duke.starfish.whatif.virtualfs.XMLVirtualFSParser;
 
 /**
  * This is the basis class for the job optimizer
@@ -50,12 +62,19 @@ public abstract class JobOptimizer {
 	protected IWhatIfScheduler scheduler; // The task scheduler
 	protected Configuration currConf; // The best configuration
 
+	private JobParameters currParams; // Typed currConf (null if outdated)
+
 	private WhatIfEngine whatifEngine; // The what-if engine
 	private Date submissionTime; // The job submission time
+	private List<JobWhatIfWorker> workers; // The workers (null if sequential)
+	private ParallelWhatIfCostEngine<ParameterSpacePoint> parallelEngine;
+	private long deadline; // The optimization deadline in ms (0 for none)
 
 	// Populated AFTER the optimization process
 	private ParameterSpacePoint bestPoint; // The best point
 	private MRJobInfo bestJob; // The best job
+	private long optimizationTime; // The optimization time in ms
+	private int numWhatIfCalls; // The number of what-if calls
 
 	/* ***************************************************************
 	 * STATIC DATA MEMBERS
@@ -68,6 +87,8 @@ public abstract class JobOptimizer {
 	public static final String JOB_OPT_MODE = "starfish.job.optimizer.mode";
 	public static final String JOB_OPT_PROFILE_ID = "starfish.job.optimizer.profile.id";
 	public static final String JOB_OPT_SCHEDULER = "starfish.whatif.task.scheduler";
+	public static final String JOB_OPT_NUM_THREADS = "starfish.job.optimizer.num.threads";
+	public static final String JOB_OPT_TIME_BUDGET = "starfish.job.optimizer.time.budget.ms";
 
 	public static final String JOB_OPT_RUN = "run";
 	public static final String JOB_OPT_RECOMMEND = "recommend";
@@ -78,9 +99,16 @@ public abstract class JobOptimizer {
 	private static final String OPT_RRS = "rrs";
 	private static final String OPT_SMART_RRS = "smart_rrs";
 
+	// Number of points to cost between checks of the time budget
+	private static final int BUDGET_CHECK_BATCH = 64;
+
 	// Scheduler options
 	private static final String SCH_BASIC = "basic";
 	private static final String SCH_ADVANCED = "advanced";
+	private static final String SCH_FIFO = "fifo";
+	private static final String SCH_FAIR = "fair";
+	private static final String SCH_CAPACITY = "capacity";
+	private static final String CAPACITY_CONF = "capacity-scheduler.xml";
 
 	/**
 	 * Constructor
@@ -105,12 +133,18 @@ public abstract class JobOptimizer {
 		this.cluster = cluster;
 		this.scheduler = scheduler;
 		this.currConf = new Configuration(conf);
+		this.currParams = null;
 
 		this.bestPoint = null;
 		this.bestJob = null;
+		this.optimizationTime = 0l;
+		this.numWhatIfCalls = 0;
 
 		this.whatifEngine = new WhatIfEngine(jobOracle, dataModel, scheduler);
 		this.submissionTime = null;
+		this.workers = null;
+		this.parallelEngine = null;
+		this.deadline = 0l;
 	}
 
 	/* ***************************************************************
@@ -173,6 +207,28 @@ public abstract class JobOptimizer {
 		return bestJob.getDuration();
 	}
 
+	/**
+	 * Get the time spent to find the best configuration (in ms).
+	 * 
+	 * Warning: This method should only be called after optimize() is called
+	 * 
+	 * @return the optimization time
+	 */
+	public long getOptimizationTime() {
+		return optimizationTime;
+	}
+
+	/**
+	 * Get the number of what-if calls made to find the best configuration.
+	 * 
+	 * Warning: This method should only be called after optimize() is called
+	 * 
+	 * @return the number of what-if calls
+	 */
+	public int getNumWhatIfCalls() {
+		return numWhatIfCalls;
+	}
+
 	/**
 	 * The main optimization method for a MapReduce job. This method is
 	 * responsible for enumerating the search space of configuration parameter
@@ -194,14 +250,63 @@ public abstract class JobOptimizer {
 	 * simulating the job execution. This method is useful when you want to
 	 * optimize multiple jobs that will be executed on the same cluster.
 	 * 
+	 * The Hadoop parameter 'starfish.job.optimizer.num.threads' specifies the
+	 * number of threads to use for costing independent parameter space points
+	 * (defaults to the number of available processors). The result does not
+	 * depend on the number of threads.
+	 * 
+	 * The Hadoop parameter 'starfish.job.optimizer.time.budget.ms' specifies a
+	 * wall-clock budget for the optimization (defaults to 0, i.e., no budget).
+	 * When the budget runs out, the optimizer returns the best configuration
+	 * found so far. The budget is checked between what-if calls, so it may be
+	 * exceeded by the duration of a few what-if calls.
+	 * 
 	 * @param submissionTime
 	 *            the job submission time
 	 */
 	public void optimize(Date submissionTime) {
-		// Checkpoint the schedule and optimize the job
+		// Checkpoint the schedule
 		this.submissionTime = submissionTime;
 		scheduler.checkpoint();
-		bestPoint = optimizeInternal();
+
+		// Set the deadline, if any
+		long startTime = System.currentTimeMillis();
+		long budget = currConf.getLong(JOB_OPT_TIME_BUDGET, 0l);
+		deadline = (budget > 0) ? startTime + budget : 0l;
+		numWhatIfCalls = 0;
+
+		// Create the worker threads (they copy the checkpointed scheduler)
+		int numThreads = currConf.getInt(JOB_OPT_NUM_THREADS, Runtime
+				.getRuntime().availableProcessors());
+		if (numThreads > 1) {
+			workers = new ArrayList<JobWhatIfWorker>(numThreads);
+			for (int i = 0; i < numThreads; ++i)
+				workers.add(new JobWhatIfWorker(jobOracle, dataModel,
+						scheduler));
+			parallelEngine = new ParallelWhatIfCostEngine<ParameterSpacePoint>(
+					workers);
+		}
+
+		// Optimize the job
+		try {
+			bestPoint = optimizeInternal();
+		} finally {
+			if (parallelEngine != null) {
+				parallelEngine.shutdown();
+				parallelEngine = null;
+				workers = null;
+			}
+			deadline = 0l;
+		}
+
+		// Report the use of the time budget
+		optimizationTime = System.currentTimeMillis() - startTime;
+		if (budget > 0)
+			LOG.info("Job optimization took " + optimizationTime + " ms ("
+					+ Math.round(100d * optimizationTime / budget)
+					+ "% of the time budget of " + budget + " ms)");
+		else
+			LOG.info("Job optimization took " + optimizationTime + " ms");
 
 		// Get the best MR job (based on the best configuration)
 		scheduler.reset();
@@ -236,26 +341,85 @@ public abstract class JobOptimizer {
 	protected ParameterSpacePoint findBestParameterSpacePoint(
 			Collection<ParameterSpacePoint> points, Configuration conf) {
 
-		// Find the best parameter space point
+		// Ask the what-if question for each parameter space point
+		List<ParameterSpacePoint> pointList = new ArrayList<ParameterSpacePoint>(
+				points);
+
+		// Without a deadline, all the points are costed in one batch
+		int batchSize = (deadline > 0) ? BUDGET_CHECK_BATCH : pointList.size();
+
 		double minTime = Double.MAX_VALUE;
-		double currTime = 0;
 		ParameterSpacePoint bestPoint = new ParameterSpacePoint();
 
-		for (ParameterSpacePoint point : points) {
+		for (int start = 0; start < pointList.size(); start += batchSize) {
+			if (start > 0 && isPastDeadline()) {
+				LOG.info("Time budget exhausted after costing " + start
+						+ " out of " + pointList.size() + " points");
+				break;
+			}
 
-			// Ask the what-if question for each parameter space point
-			point.populateConfiguration(conf);
-			currTime = whatif(conf);
+			List<ParameterSpacePoint> batch = pointList.subList(start, Math
+					.min(start + batchSize, pointList.size()));
+			double[] times = whatif(batch, conf);
 
-			if (currTime < minTime) {
-				minTime = currTime;
-				bestPoint = point;
+			// Find the best parameter space point
+			for (int i = 0; i < times.length; ++i) {
+				if (times[i] < minTime) {
+					minTime = times[i];
+					bestPoint = batch.get(i);
+				}
 			}
 		}
 
 		return bestPoint;
 	}
 
+	/**
+	 * @return the optimization deadline in ms since the epoch (0 for none)
+	 */
+	protected long getDeadline() {
+		return deadline;
+	}
+
+	/**
+	 * @return true if the optimization has a deadline and it has passed
+	 */
+	protected boolean isPastDeadline() {
+		return deadline > 0 && System.currentTimeMillis() >= deadline;
+	}
+
+	/**
+	 * Populate the current configuration with the parameter values of the
+	 * provided point
+	 * 
+	 * @param point
+	 *            the parameter space point
+	 */
+	protected void updateCurrentConf(ParameterSpacePoint point) {
+		point.populateConfiguration(currConf);
+		currParams = null;
+	}
+
+	/**
+	 * Asks the What-if Engine to find the running time of the job with the
+	 * current configuration modified by the parameter values of the provided
+	 * point. The values are set directly on a typed copy of the current
+	 * configuration, which is not modified.
+	 * 
+	 * @param point
+	 *            the parameter space point
+	 * @return the estimated running time
+	 */
+	protected double whatif(ParameterSpacePoint point) {
+		if (currParams == null)
+			currParams = new JobParameters(currConf);
+
+		point.populateParameters(currParams);
+		++numWhatIfCalls;
+		scheduler.reset();
+		return whatifEngine.whatIfJobParamsGetTime(submissionTime, currParams);
+	}
+
 	/**
 	 * Asks the What-if Engine to find the running time of the job with this
 	 * configuration
@@ -265,10 +429,62 @@ public abstract class JobOptimizer {
 	 * @return the estimated running time
 	 */
 	protected double whatif(Configuration conf) {
+		++numWhatIfCalls;
 		scheduler.reset();
 		return whatifEngine.whatIfJobConfGetTime(submissionTime, conf);
 	}
 
+	/**
+	 * Asks the What-if Engine to find the running time of the job for each
+	 * one of the parameter space points. The points are costed in parallel
+	 * when the optimizer uses multiple threads.
+	 * 
+	 * @param points
+	 *            the parameter space points
+	 * @param conf
+	 *            the base configuration (it is not modified)
+	 * @return the estimated running times (the i-th time is for the i-th
+	 *         point)
+	 */
+	protected double[] whatif(List<ParameterSpacePoint> points,
+			Configuration conf) {
+
+		// The configuration is parsed once for the entire batch
+		numWhatIfCalls += points.size();
+		JobParameters params = new JobParameters(conf);
+		if (parallelEngine != null && points.size() > 1) {
+			for (JobWhatIfWorker worker : workers)
+				worker.setParameters(new JobParameters(params));
+			return parallelEngine.costSpacePoints(points, submissionTime);
+		}
+
+		double[] times = new double[points.size()];
+		for (int i = 0; i < times.length; ++i) {
+			points.get(i).populateParameters(params);
+			scheduler.reset();
+			times[i] = whatifEngine.whatIfJobParamsGetTime(submissionTime,
+					params);
+		}
+
+		return times;
+	}
+
+	/**
+	 * Set the ignore reducers flag on the job oracle and the scheduler (and on
+	 * their copies used by the worker threads, if any)
+	 * 
+	 * @param ignoreReducers
+	 *            the ignore reducers flag
+	 */
+	protected void setIgnoreReducers(boolean ignoreReducers) {
+		jobOracle.setIgnoreReducers(ignoreReducers);
+		scheduler.setIgnoreReducers(ignoreReducers);
+		if (workers != null) {
+			for (JobWhatIfWorker worker : workers)
+				worker.setIgnoreReducers(ignoreReducers);
+		}
+	}
+
 	/* ***************************************************************
 	 * PUBLIC STATIC METHODS
 	 * ***************************************************************
@@ -313,7 +529,10 @@ public abstract class JobOptimizer {
 	 * settings.
 	 * 
 	 * Note: The Hadoop parameter 'starfish.job.optimizer.type' should contain
-	 * the type of the optimizer to use: rrs, smart_rrs, full, smart_full.
+	 * the type of the optimizer to use: rrs, smart_rrs, full, smart_full. If
+	 * 'starfish.whatif.reduce.skew' is true and the profile is given by its job
+	 * id, the skew of the reducers is modeled from the data transfers of the
+	 * profiled job.
 	 * 
 	 * @param job
 	 *            the MapReduce job
@@ -341,7 +560,10 @@ public abstract class JobOptimizer {
 	 * settings.
 	 * 
 	 * Note: The Hadoop parameter 'starfish.job.optimizer.type' should contain
-	 * the type of the optimizer to use: rrs, smart_rrs, full, smart_full.
+	 * the type of the optimizer to use: rrs, smart_rrs, full, smart_full. If
+	 * 'starfish.whatif.reduce.skew' is true and the profile is given by its job
+	 * id, the skew of the reducers is modeled from the data transfers of the
+	 * profiled job.
 	 * 
 	 * @param job
 	 *            the MapReduce job
@@ -381,7 +603,10 @@ public abstract class JobOptimizer {
 	 * configuration containing the recommended settings.
 	 * 
 	 * Note: The Hadoop parameter 'starfish.job.optimizer.type' should contain
-	 * the type of the optimizer to use: rrs, smart_rrs, full, smart_full.
+	 * the type of the optimizer to use: rrs, smart_rrs, full, smart_full. If
+	 * 'starfish.whatif.reduce.skew' is true and the profile is given by its job
+	 * id, the skew of the reducers is modeled from the data transfers of the
+	 * profiled job.
 	 * 
 	 * @param job
 	 *            the MapReduce job
@@ -411,9 +636,21 @@ public abstract class JobOptimizer {
 			ClusterConfiguration cluster = new ClusterConfiguration(conf);
 			JobProfileOracle jobOracle = new JobProfileOracle(sourceProf);
 
+			// Model the skew of the reducers, if requested
+			if (conf.getBoolean(ReduceSkewModel.REDUCE_SKEW, false)
+					&& !new File(jobProfileId).exists()) {
+				MRJobLogsManager manager = new MRJobLogsManager();
+				manager.setResultsDir(conf.get(Profiler.PROFILER_OUTPUT_DIR));
+				ReduceSkewModel skewModel = ReduceSkewModel.loadFromManager(
+						manager, jobProfileId);
+				LOG.info("Reducer skew model: " + skewModel);
+				jobOracle.setReduceSkewModel(skewModel);
+			}
+
 			// Get the task scheduler
 			String strScheduler = conf.get(JOB_OPT_SCHEDULER, SCH_ADVANCED);
-			IWhatIfScheduler scheduler = getTaskScheduler(cluster, strScheduler);
+			IWhatIfScheduler scheduler = getTaskScheduler(cluster,
+					strScheduler, conf);
 
 			// Get the job optimizer
 			String type = conf.get(JOB_OPT_TYPE, OPT_SMART_RRS);
@@ -422,10 +659,7 @@ public abstract class JobOptimizer {
 					jobOracle, dataModel, cluster, conf, scheduler);
 
 			// Find the best configuration
-			long start = System.currentTimeMillis();
 			optimizer.optimize();
-			long end = System.currentTimeMillis();
-			LOG.info("Job optimization time (ms): " + (end - start));
 
 			return optimizer.getBestConfiguration(false);
 
@@ -501,19 +735,76 @@ public abstract class JobOptimizer {
 	 * @param cluster
 	 *            the cluster configuration for the scheduler to use
 	 * @param type
-	 *            the type of the scheduler (basic, advanced)
+	 *            the type of the scheduler (basic, advanced, fifo, fair,
+	 *            capacity)
 	 * @return the scheduler
 	 */
 	public static IWhatIfScheduler getTaskScheduler(
 			ClusterConfiguration cluster, String type) {
+		return getTaskScheduler(cluster, type, new Configuration());
+	}
+
+	/**
+	 * Create and return the requested scheduler. The 'advanced' scheduler
+	 * simulates one job at a time on the cluster, while the 'fifo', 'fair',
+	 * and 'capacity' schedulers simulate the concurrent jobs with the
+	 * corresponding Hadoop scheduling policy. The latter place the map tasks
+	 * near their input data when 'starfish.whatif.locality.aware' is true.
+	 * 
+	 * The blocks of the input files are read from the XML virtual file system
+	 * in 'starfish.whatif.virtual.fs.file', for the jobs with virtual input
+	 * paths. Otherwise, the input blocks of each job are placed on random (but
+	 * fixed) hosts. If the virtual file system cannot be loaded, a
+	 * RuntimeException is thrown.
+	 * 
+	 * @param cluster
+	 *            the cluster configuration for the scheduler to use
+	 * @param type
+	 *            the type of the scheduler (basic, advanced, fifo, fair,
+	 *            capacity)
+	 * @param conf
+	 *            the configuration (with the capacity scheduler, the data
+	 *            locality, and the virtual file system settings)
+	 * @return the scheduler
+	 */
+	public static IWhatIfScheduler getTaskScheduler(
+			ClusterConfiguration cluster, String type, Configuration conf) {
 
-		IWhatIfScheduler scheduler = null;
+		ISchedulingPolicy policy = null;
 		if (type.equals(SCH_BASIC)) {
-			LOG.error("The 'basic' optimizer is not supported anymore!");
+			LOG.error("The 'basic' scheduler is not supported anymore!");
+			return null;
 		} else if (type.equals(SCH_ADVANCED)) {
-			scheduler = new BasicFIFOScheduler(cluster);
+			return new BasicFIFOScheduler(cluster);
+		} else if (type.equals(SCH_FIFO)) {
+			policy = new FIFOSchedulingPolicy();
+		} else if (type.equals(SCH_FAIR)) {
+			policy = new FairSchedulingPolicy();
+		} else if (type.equals(SCH_CAPACITY)) {
+			Configuration schedConf = new Configuration(conf);
+			schedConf.addResource(CAPACITY_CONF);
+			policy = new CapacitySchedulingPolicy(schedConf);
 		} else {
-			LOG.error("Unsupported optimizer type: " + type);
+			LOG.error("Unsupported scheduler type: " + type);
+			return null;
+		}
+
+		// The event-driven schedulers can place the maps near their data
+		EventDrivenScheduler scheduler = new EventDrivenScheduler(cluster,
+				policy);
+		scheduler.setLocalityAware(conf.getBoolean(
+				EventDrivenScheduler.LOCALITY_AWARE, false));
+		scheduler.setRackOversubscription(conf.getFloat(
+				EventDrivenScheduler.RACK_OVERSUBSCRIPTION, 4f));
+
+		String vfsFile = conf.get(EventDrivenScheduler.VIRTUAL_FS_FILE);
+		if (vfsFile != null) {
+			VirtualFileSystem vfs = XMLVirtualFSParser
+					.importVirtualFileSystem(new File(vfsFile));
+			if (vfs == null)
+				throw new RuntimeException("ERROR: Unable to load the virtual "
+						+ "file system " + vfsFile);
+			scheduler.setVirtualFileSystem(vfs);
 		}
 
 		return scheduler;
@@ -0,0 +1,92 @@
+package edu.duke.starfish.jobopt.optimizer;
+
+import java.util.Date;
+
+import edu.duke.starfish.jobopt.space.ParameterSpacePoint;
+import edu.duke.starfish.whatif.WhatIfEngine;
+import edu.duke.starfish.whatif.data.DataSetModel;
+import edu.duke.starfish.whatif.data.JobParameters;
+import edu.duke.starfish.whatif.oracle.JobProfileOracle;
+import edu.duke.starfish.whatif.scheduler.IWhatIfScheduler;
+
+/**
+ * The what-if components of a single job owned by a worker thread. The job
+ * profile oracle and the task scheduler keep state about the last prediction,
+ * so each worker owns a copy of them (taken when the worker is created, i.e.,
+ * after the scheduler has been checkpointed), as well as its own copy of the
+ * typed job parameters.
+ * 
+ * Note: The data set model is shared among the workers and must be
+ * thread-safe.
+ * 
+ * @author hero
+ */
+public class JobWhatIfWorker implements IWhatIfWorker<ParameterSpacePoint> {
+
+	/* ***************************************************************
+	 * DATA MEMBERS
+	 * ***************************************************************
+	 */
+
+	private JobProfileOracle jobOracle; // The private job oracle
+	private IWhatIfScheduler scheduler; // The private scheduler
+	private WhatIfEngine whatifEngine; // The private what-if engine
+	private JobParameters params; // The private job parameters
+
+	/**
+	 * Constructor
+	 * 
+	 * @param jobOracle
+	 *            the job profile oracle to copy
+	 * @param dataModel
+	 *            the (thread-safe) data set model
+	 * @param scheduler
+	 *            the scheduler to copy
+	 */
+	public JobWhatIfWorker(JobProfileOracle jobOracle, DataSetModel dataModel,
+			IWhatIfScheduler scheduler) {
+		this.jobOracle = new JobProfileOracle(jobOracle);
+		this.scheduler = scheduler.copy();
+		this.whatifEngine = new WhatIfEngine(this.jobOracle, dataModel,
+				this.scheduler);
+		this.params = null;
+	}
+
+	/* ***************************************************************
+	 * PUBLIC METHODS
+	 * ***************************************************************
+	 */
+
+	/**
+	 * Set the job parameters that the values of the points are populated
+	 * into. Must not be called while a batch is being costed.
+	 * 
+	 * @param params
+	 *            the job parameters (owned by this worker from now on)
+	 */
+	public void setParameters(JobParameters params) {
+		this.params = params;
+	}
+
+	/**
+	 * Set the ignore reducers flag on the oracle and the scheduler. Must not
+	 * be called while a batch is being costed.
+	 * 
+	 * @param ignoreReducers
+	 *            the ignore reducers flag
+	 */
+	public void setIgnoreReducers(boolean ignoreReducers) {
+		jobOracle.setIgnoreReducers(ignoreReducers);
+		scheduler.setIgnoreReducers(ignoreReducers);
+	}
+
+	/**
+	 * @see IWhatIfWorker#whatif(Object, Date)
+	 */
+	@Override
+	public double whatif(ParameterSpacePoint point, Date submissionTime) {
+		point.populateParameters(params);
+		scheduler.reset();
+		return whatifEngine.whatIfJobParamsGetTime(submissionTime, params);
+	}
+}
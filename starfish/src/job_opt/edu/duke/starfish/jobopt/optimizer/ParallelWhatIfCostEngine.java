@@ -0,0 +1,138 @@
+package edu.duke.starfish.jobopt.optimizer;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import edu.duke.starfish.profile.utils.DaemonThreadFactory;
+
+/**
+ * A thread-safe cost engine that uses a pool of threads to ask the What-if
+ * Engine for the running times of a batch of space points.
+ * 
+ * The what-if components keep state about the last prediction, so they cannot
+ * be shared among threads. Instead, each thread uses its own worker (see
+ * {@link IWhatIfWorker}), e.g., a {@link JobWhatIfWorker} for the points of a
+ * single job. The points of a batch are handed out to the workers
+ * dynamically, but each cost is stored at the index of its point, so the
+ * results are identical to costing the points sequentially.
+ * 
+ * @author hero
+ */
+public class ParallelWhatIfCostEngine<P> {
+
+	/* ***************************************************************
+	 * DATA MEMBERS
+	 * ***************************************************************
+	 */
+
+	private static final Log LOG = LogFactory
+			.getLog(ParallelWhatIfCostEngine.class);
+
+	private List<? extends IWhatIfWorker<P>> workers; // One per thread
+	private ExecutorService executor; // The thread pool
+
+	// Constants
+	private static final String THREAD_NAME = "starfish-whatif-worker-";
+
+	/**
+	 * Constructor
+	 * 
+	 * @param workers
+	 *            the workers, one for each thread
+	 */
+	public ParallelWhatIfCostEngine(List<? extends IWhatIfWorker<P>> workers) {
+
+		if (workers.isEmpty())
+			throw new IllegalArgumentException(
+					"At least one worker is required");
+
+		// Create the thread pool
+		this.workers = workers;
+		this.executor = Executors.newFixedThreadPool(workers.size(),
+				new DaemonThreadFactory(THREAD_NAME));
+
+		LOG.debug("Created parallel what-if cost engine with "
+				+ workers.size() + " threads");
+	}
+
+	/* ***************************************************************
+	 * PUBLIC METHODS
+	 * ***************************************************************
+	 */
+
+	/**
+	 * @return the number of worker threads
+	 */
+	public int getNumThreads() {
+		return workers.size();
+	}
+
+	/**
+	 * Ask the workers for the running time for each one of the space points.
+	 * The i-th cost corresponds to the i-th point.
+	 * 
+	 * @param points
+	 *            the space points
+	 * @param submissionTime
+	 *            the submission time
+	 * @return the estimated running times
+	 */
+	public double[] costSpacePoints(final List<P> points,
+			final Date submissionTime) {
+
+		final double[] costs = new double[points.size()];
+		final AtomicInteger nextIndex = new AtomicInteger(0);
+
+		// Create one task per worker that keeps costing the next point
+		int numTasks = Math.min(workers.size(), points.size());
+		List<Callable<Object>> tasks = new ArrayList<Callable<Object>>(
+				numTasks);
+		for (int w = 0; w < numTasks; ++w) {
+			final IWhatIfWorker<P> worker = workers.get(w);
+			tasks.add(new Callable<Object>() {
+				@Override
+				public Object call() {
+					int i;
+					while ((i = nextIndex.getAndIncrement()) < costs.length) {
+						costs[i] = worker.whatif(points.get(i), submissionTime);
+					}
+					return null;
+				}
+			});
+		}
+
+		// Execute the tasks and wait for all of them to finish
+		try {
+			for (Future<Object> future : executor.invokeAll(tasks)) {
+				future.get();
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new RuntimeException(e);
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException)
+				throw (RuntimeException) e.getCause();
+			throw new RuntimeException(e.getCause());
+		}
+
+		return costs;
+	}
+
+	/**
+	 * Shut down the thread pool. The engine cannot be used afterwards.
+	 */
+	public void shutdown() {
+		executor.shutdownNow();
+	}
+
+}
@@ -1,5 +1,7 @@
 package edu.duke.starfish.jobopt.optimizer;
 
+import java.util.List;
+
 import org.apache.hadoop.conf.Configuration;
 
 import edu.duke.starfish.jobopt.rrs.IRRSCostEngine;
@@ -61,6 +63,7 @@ public class RRSJobOptimizer extends JobOptimizer implements
 		// Perform recursive random search to find the best point
 		RecursiveRandomSearch<ParameterSpacePoint> rrs = 
 			new RecursiveRandomSearch<ParameterSpacePoint>(currConf);
+		rrs.setDeadline(getDeadline());
 		return rrs.findBestSpacePoint(space, this);
 	}
 
@@ -69,8 +72,15 @@ public class RRSJobOptimizer extends JobOptimizer implements
 	 */
 	@Override
 	public double costSpacePoint(ParameterSpacePoint point) {
-		point.populateConfiguration(currConf);
-		return whatif(currConf);
+		return whatif(point);
+	}
+
+	/**
+	 * @see IRRSCostEngine#costSpacePoints(List)
+	 */
+	@Override
+	public double[] costSpacePoints(List<ParameterSpacePoint> points) {
+		return whatif(points, currConf);
 	}
 
 }
@@ -80,11 +80,10 @@ public class SmartEnumJobOptimizer extends FullEnumJobOptimizer {
 		LOG.debug("Number of settings: " + mapPoints.size());
 
 		// Find the best point for the map tasks
-		jobOracle.setIgnoreReducers(true);
-		scheduler.setIgnoreReducers(true);
+		setIgnoreReducers(true);
 		ParameterSpacePoint optMapPoint = findBestParameterSpacePoint(
 				mapPoints, currConf);
-		optMapPoint.populateConfiguration(currConf);
+		updateCurrentConf(optMapPoint);
 
 		// Initialize the parameter space for the reduce tasks
 		ParameterSpace redSpace = ParamSpaceUtils
@@ -106,8 +105,7 @@ public class SmartEnumJobOptimizer extends FullEnumJobOptimizer {
 		LOG.debug("Number of settings: " + redPoints.size());
 
 		// Find the best point for the entire job
-		jobOracle.setIgnoreReducers(false);
-		scheduler.setIgnoreReducers(false);
+		setIgnoreReducers(false);
 		ParameterSpacePoint optRedPoint = findBestParameterSpacePoint(
 				redPoints, currConf);
 
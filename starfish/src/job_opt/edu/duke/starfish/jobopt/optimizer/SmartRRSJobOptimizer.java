@@ -68,12 +68,12 @@ public class SmartRRSJobOptimizer extends RRSJobOptimizer {
 				virtualProf);
 
 		// Perform RRS to find the best point in the map space
-		jobOracle.setIgnoreReducers(true);
-		scheduler.setIgnoreReducers(true);
+		setIgnoreReducers(true);
 		RecursiveRandomSearch<ParameterSpacePoint> rrs = 
 			new RecursiveRandomSearch<ParameterSpacePoint>(currConf);
+		rrs.setDeadline(getDeadline());
 		ParameterSpacePoint optMapPoint = rrs.findBestSpacePoint(space, this);
-		optMapPoint.populateConfiguration(currConf);
+		updateCurrentConf(optMapPoint);
 
 		// Initialize the reduce parameter space
 		space = ParamSpaceUtils.getParamSpaceForReducers(currConf);
@@ -88,8 +88,7 @@ public class SmartRRSJobOptimizer extends RRSJobOptimizer {
 		}
 
 		// Perform RRS to find the best point in the reduce space
-		jobOracle.setIgnoreReducers(false);
-		scheduler.setIgnoreReducers(false);
+		setIgnoreReducers(false);
 		ParameterSpacePoint optRedPoint = rrs.findBestSpacePoint(space, this);
 
 		// Add the best reduce param values and return
@@ -0,0 +1,297 @@
+package edu.duke.starfish.jobopt.optimizer;
+
+import static edu.duke.starfish.jobopt.optimizer.JobOptimizer.JOB_OPT_NUM_THREADS;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.hadoop.conf.Configuration;
+
+import edu.duke.starfish.jobopt.rrs.IRRSCostEngine;
+import edu.duke.starfish.jobopt.rrs.RecursiveRandomSearch;
+import edu.duke.starfish.jobopt.space.MultiJobParamSpacePoint;
+import edu.duke.starfish.jobopt.space.MultiJobParameterSpace;
+import edu.duke.starfish.jobopt.space.ParamSpaceUtils;
+import edu.duke.starfish.jobopt.space.ParameterSpace;
+import edu.duke.starfish.profile.profileinfo.ClusterConfiguration;
+import edu.duke.starfish.profile.profileinfo.execution.jobs.MRJobInfo;
+import edu.duke.starfish.whatif.WorkflowWhatIfEngine;
+import edu.duke.starfish.whatif.data.JobParameters;
+
+/**
+ * An optimizer for a workflow of MapReduce jobs that uses Recursive Random
+ * Search ({@link RecursiveRandomSearch}) over the joint parameter space of all
+ * the jobs. Each point of the space is costed by the
+ * {@link WorkflowWhatIfEngine} as the execution time of the entire workflow,
+ * so the optimizer accounts for the effect that the settings of a job have on
+ * the jobs that read its output, and for the jobs that compete for the
+ * cluster at the same time.
+ * 
+ * The Hadoop parameter 'starfish.job.optimizer.num.threads' specifies the
+ * number of threads to use for costing independent space points (defaults to
+ * the number of available processors). Each thread owns a copy of the
+ * workflow what-if engine, so the result does not depend on the number of
+ * threads.
+ * 
+ * @author hero
+ */
+public class WorkflowOptimizer implements
+		IRRSCostEngine<MultiJobParamSpacePoint> {
+
+	/* ***************************************************************
+	 * DATA MEMBERS
+	 * ***************************************************************
+	 */
+
+	private static final Log LOG = LogFactory.getLog(WorkflowOptimizer.class);
+
+	private WorkflowWhatIfEngine whatifEngine; // The workflow what-if engine
+	private ClusterConfiguration cluster; // The cluster setup
+	private Configuration conf; // The optimizer settings
+
+	private WorkflowWorker worker; // The worker for sequential costing
+	private ParallelWhatIfCostEngine<MultiJobParamSpacePoint> parallelEngine;
+	private Date submissionTime; // The workflow submission time
+
+	// Populated AFTER the optimization process
+	private MultiJobParamSpacePoint bestPoint; // The best point
+	private List<MRJobInfo> bestJobs; // The best jobs
+	private double bestTime; // The best workflow running time
+
+	/**
+	 * Constructor
+	 * 
+	 * @param whatifEngine
+	 *            the workflow what-if engine with all the jobs
+	 * @param cluster
+	 *            the cluster setup
+	 * @param conf
+	 *            the optimizer settings (e.g., the search and threads)
+	 */
+	public WorkflowOptimizer(WorkflowWhatIfEngine whatifEngine,
+			ClusterConfiguration cluster, Configuration conf) {
+		this.whatifEngine = whatifEngine;
+		this.cluster = cluster;
+		this.conf = conf;
+
+		this.worker = null;
+		this.parallelEngine = null;
+		this.submissionTime = null;
+
+		this.bestPoint = null;
+		this.bestJobs = null;
+		this.bestTime = 0d;
+	}
+
+	/* ***************************************************************
+	 * PUBLIC METHODS
+	 * ***************************************************************
+	 */
+
+	/**
+	 * Get the best configuration of a job in the workflow.
+	 * 
+	 * Warning: This method should only be called after optimize() is called
+	 * 
+	 * @param jobIndex
+	 *            the index of the job in the workflow
+	 * @param fullConf
+	 *            whether to produce the full configuration or only the
+	 *            optimized parameters
+	 * @return the best job configuration
+	 */
+	public Configuration getBestConfiguration(int jobIndex, boolean fullConf) {
+		Configuration bestConf;
+		if (fullConf) {
+			bestConf = new Configuration(whatifEngine
+					.getJobConfiguration(jobIndex));
+		} else {
+			bestConf = new Configuration(false);
+		}
+		bestPoint.getJobSpacePoint(jobIndex).populateConfiguration(bestConf);
+		return bestConf;
+	}
+
+	/**
+	 * Get the best MR job descriptions, one for each job in the workflow.
+	 * 
+	 * Warning: This method should only be called after optimize() is called
+	 * 
+	 * @return the best MR jobs
+	 */
+	public List<MRJobInfo> getBestMRJobInfos() {
+		return bestJobs;
+	}
+
+	/**
+	 * Get the best workflow running time (in ms), i.e., the time from the
+	 * submission of the workflow until the last job completes.
+	 * 
+	 * Warning: This method should only be called after optimize() is called
+	 * 
+	 * @return the best workflow running time
+	 */
+	public double getBestRunningTime() {
+		return bestTime;
+	}
+
+	/**
+	 * The main optimization method for the workflow. After using this method,
+	 * you can use any of the getBestX() methods.
+	 */
+	public void optimize() {
+		optimize(new Date());
+	}
+
+	/**
+	 * The main optimization method for the workflow. After using this method,
+	 * you can use any of the getBestX() methods.
+	 * 
+	 * @param submissionTime
+	 *            the workflow submission time
+	 */
+	public void optimize(Date submissionTime) {
+		// Checkpoint the schedule
+		this.submissionTime = submissionTime;
+		whatifEngine.getScheduler().checkpoint();
+
+		// Build the joint space, using the virtual profiles of the jobs under
+		// their current settings to adjust the parameter domains
+		MultiJobParameterSpace space = new MultiJobParameterSpace();
+		List<MRJobInfo> currJobs = whatifEngine
+				.whatIfWorkflowGetJobInfos(submissionTime);
+		for (int i = 0; i < whatifEngine.getNumJobs(); ++i) {
+			Configuration jobConf = whatifEngine.getJobConfiguration(i);
+			ParameterSpace jobSpace = ParamSpaceUtils
+					.getFullParamSpace(jobConf);
+			ParamSpaceUtils.adjustParameterDescriptors(jobSpace, cluster,
+					jobConf, currJobs.get(i).getProfile());
+			space.addParamSpace(i, jobSpace);
+		}
+		whatifEngine.getScheduler().reset();
+		LOG.debug("Workflow space with " + whatifEngine.getNumJobs()
+				+ " jobs and " + space.getNumDimensions() + " dimensions");
+
+		// Create the workers (they copy the checkpointed scheduler)
+		worker = new WorkflowWorker(whatifEngine);
+		int numThreads = conf.getInt(JOB_OPT_NUM_THREADS, Runtime.getRuntime()
+				.availableProcessors());
+		if (numThreads > 1) {
+			List<WorkflowWorker> workers = new ArrayList<WorkflowWorker>(
+					numThreads);
+			for (int i = 0; i < numThreads; ++i)
+				workers.add(new WorkflowWorker(new WorkflowWhatIfEngine(
+						whatifEngine)));
+			parallelEngine =
+				new ParallelWhatIfCostEngine<MultiJobParamSpacePoint>(workers);
+		}
+
+		// Perform recursive random search to find the best point
+		try {
+			RecursiveRandomSearch<MultiJobParamSpacePoint> rrs =
+				new RecursiveRandomSearch<MultiJobParamSpacePoint>(conf);
+			bestPoint = rrs.findBestSpacePoint(space, this);
+		} finally {
+			if (parallelEngine != null) {
+				parallelEngine.shutdown();
+				parallelEngine = null;
+			}
+		}
+
+		// Get the best MR jobs (based on the best configurations)
+		whatifEngine.getScheduler().reset();
+		bestJobs = whatifEngine.whatIfWorkflowParamsGetJobInfos(
+				submissionTime, worker.populateParameters(bestPoint));
+		long endTime = submissionTime.getTime();
+		for (MRJobInfo job : bestJobs)
+			endTime = Math.max(endTime, job.getEndTime().getTime());
+		bestTime = endTime - submissionTime.getTime();
+		worker = null;
+	}
+
+	/**
+	 * @see IRRSCostEngine#costSpacePoint(Object)
+	 */
+	@Override
+	public double costSpacePoint(MultiJobParamSpacePoint point) {
+		return worker.whatif(point, submissionTime);
+	}
+
+	/**
+	 * @see IRRSCostEngine#costSpacePoints(List)
+	 */
+	@Override
+	public double[] costSpacePoints(List<MultiJobParamSpacePoint> points) {
+
+		if (parallelEngine == null || points.size() <= 1) {
+			double[] costs = new double[points.size()];
+			for (int i = 0; i < costs.length; ++i)
+				costs[i] = worker.whatif(points.get(i), submissionTime);
+			return costs;
+		}
+
+		return parallelEngine.costSpacePoints(points, submissionTime);
+	}
+
+	/* ***************************************************************
+	 * PRIVATE CLASSES
+	 * ***************************************************************
+	 */
+
+	/**
+	 * A workflow what-if engine along with its own copy of the typed
+	 * parameters of each job
+	 * 
+	 * @author hero
+	 */
+	private static class WorkflowWorker implements
+			IWhatIfWorker<MultiJobParamSpacePoint> {
+
+		private WorkflowWhatIfEngine whatifEngine; // The what-if engine
+		private List<JobParameters> params; // The private job parameters
+
+		/**
+		 * Constructor
+		 * 
+		 * @param whatifEngine
+		 *            the workflow what-if engine
+		 */
+		public WorkflowWorker(WorkflowWhatIfEngine whatifEngine) {
+			this.whatifEngine = whatifEngine;
+			this.params = new ArrayList<JobParameters>(whatifEngine
+					.getNumJobs());
+			for (int i = 0; i < whatifEngine.getNumJobs(); ++i)
+				params.add(new JobParameters(whatifEngine.getJobParameters(i)));
+		}
+
+		/**
+		 * Populate the parameters of each job with the values of the point
+		 * 
+		 * @param point
+		 *            the multi-job space point
+		 * @return the parameters of each job
+		 */
+		public List<JobParameters> populateParameters(
+				MultiJobParamSpacePoint point) {
+			for (int i = 0; i < params.size(); ++i)
+				point.getJobSpacePoint(i).populateParameters(params.get(i));
+			return params;
+		}
+
+		/**
+		 * @see IWhatIfWorker#whatif(Object, Date)
+		 */
+		@Override
+		public double whatif(MultiJobParamSpacePoint point,
+				Date submissionTime) {
+			populateParameters(point);
+			whatifEngine.getScheduler().reset();
+			return whatifEngine.whatIfWorkflowParamsGetTime(submissionTime,
+					params);
+		}
+	}
+
+}
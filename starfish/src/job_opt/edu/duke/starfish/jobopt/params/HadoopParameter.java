@@ -64,6 +64,37 @@ public enum HadoopParameter {
 		return super.toString();
 	}
 
+	/**
+	 * @return true if the parameter takes fractional values
+	 */
+	public boolean isFractional() {
+		switch (this) {
+		case SPILL_PERC:
+		case SORT_REC_PERC:
+		case SHUFFLE_IN_BUFF_PERC:
+		case SHUFFLE_MERGE_PERC:
+		case RED_IN_BUFF_PERC:
+		case RED_SLOWSTART_MAPS:
+			return true;
+		default:
+			return false;
+		}
+	}
+
+	/**
+	 * @return true if the parameter takes boolean values
+	 */
+	public boolean isBoolean() {
+		switch (this) {
+		case COMBINE:
+		case COMPRESS_MAP_OUT:
+		case COMPRESS_OUT:
+			return true;
+		default:
+			return false;
+		}
+	}
+
 	/**
 	 * @return a description of the Hadoop parameter
 	 */
@@ -1,5 +1,7 @@
 package edu.duke.starfish.jobopt.rrs;
 
+import java.util.List;
+
 /**
  * Interface for a cost engine knows how to cost a space point
  * 
@@ -15,4 +17,16 @@ public interface IRRSCostEngine<P> {
 	 * @return the cost
 	 */
 	public double costSpacePoint(P point);
+
+	/**
+	 * Return the costs of all the provided space points. The points are
+	 * independent of each other, so implementations are free to cost them
+	 * concurrently. However, the i-th cost must always correspond to the i-th
+	 * point, regardless of the order in which the points are costed.
+	 * 
+	 * @param points
+	 *            the space points to cost
+	 * @return the costs
+	 */
+	public double[] costSpacePoints(List<P> points);
 }
@@ -1,9 +1,10 @@
 package edu.duke.starfish.jobopt.rrs;
 
 import java.util.ArrayList;
-import java.util.Collection;
 import java.util.List;
 
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
 import org.apache.hadoop.conf.Configuration;
 
 /**
@@ -67,6 +68,11 @@ import org.apache.hadoop.conf.Configuration;
  * 
  * </pre>
  * 
+ * Anytime mode: if a deadline is set, the search also stops when the deadline
+ * passes and returns the best point found so far. The deadline is checked
+ * before every what-if call, and before every batch of the initial samples (or
+ * of the points of a very small space).
+ * 
  * @author hero
  */
 public class RecursiveRandomSearch<P> {
@@ -76,6 +82,9 @@ public class RecursiveRandomSearch<P> {
 	 * ***************************************************************
 	 */
 
+	private static final Log LOG = LogFactory
+			.getLog(RecursiveRandomSearch.class);
+
 	// Constants
 	public static final String RRS_EXPLORE_CONF_PROB = "starfish.job.optimizer.explore.confidence.prob";
 	public static final String RRS_EXPLORE_PERC = "starfish.job.optimizer.explore.percentile";
@@ -104,6 +113,10 @@ public class RecursiveRandomSearch<P> {
 	float s_t;
 	int l;
 
+	// Anytime mode
+	private long deadline; // The deadline in ms (0 for none)
+	private static final int BATCH_SIZE = 16; // Points costed per batch
+
 	/**
 	 * Constructor
 	 * 
@@ -122,6 +135,31 @@ public class RecursiveRandomSearch<P> {
 		c = conf.getFloat(RRS_EXPLOIT_RED_RATIO, RRS_DEF_EXPLOIT_RED_RATIO);
 		s_t = conf.getFloat(RRS_EXPLOIT_TERM_SIZE, RRS_DEF_EXPLOIT_TERM_SIZE);
 		l = (int) Math.round(Math.log(1 - q) / Math.log(1 - v));
+
+		deadline = 0l;
+	}
+
+	/* ***************************************************************
+	 * GETTERS AND SETTERS
+	 * ***************************************************************
+	 */
+
+	/**
+	 * @return the deadline of the search in ms (0 for none)
+	 */
+	public long getDeadline() {
+		return deadline;
+	}
+
+	/**
+	 * Set a wall-clock deadline for the search. Once the deadline passes, the
+	 * search returns the best point found so far.
+	 * 
+	 * @param deadline
+	 *            the deadline in ms since the epoch (0 for none)
+	 */
+	public void setDeadline(long deadline) {
+		this.deadline = deadline;
 	}
 
 	/* ***************************************************************
@@ -142,6 +180,8 @@ public class RecursiveRandomSearch<P> {
 	public P findBestSpacePoint(IRRSSearchSpace<P> space,
 			IRRSCostEngine<P> costEngine) {
 
+		long startTime = System.currentTimeMillis();
+
 		// Check for empty space
 		if (space.getNumDimensions() == 0)
 			return space.getEmptySpacePoint();
@@ -153,15 +193,16 @@ public class RecursiveRandomSearch<P> {
 			return findBestSpacePoint(points, costEngine);
 		}
 
-		// Take n random samples from the parameter space
+		// Take n random samples from the parameter space. The samples are
+		// drawn first and costed together, which allows the cost engine to
+		// cost them in parallel without affecting the random sequence.
 		int countWhatIf = 0;
 		List<P> x_array = new ArrayList<P>(n);
-		double[] f_x_array = new double[n];
 		for (int i = 0; i < n; ++i) {
 			x_array.add(space.getRandomSpacePoint());
-			f_x_array[i] = costEngine.costSpacePoint(x_array.get(i));
-			++countWhatIf;
 		}
+		double[] f_x_array = new double[n];
+		countWhatIf += costSpacePoints(x_array, f_x_array, costEngine);
 
 		// Find the min point
 		int minIndex = findMinIndex(f_x_array);
@@ -177,6 +218,7 @@ public class RecursiveRandomSearch<P> {
 		P x_opt = x_0;
 		double f_x_opt = f_x_0;
 		int lastCountOptChange = countWhatIf;
+		logProgress(countWhatIf, f_x_opt, startTime);
 
 		// Calculate termination criteria as scaled exponential functions
 		// of the number of parameters in the space
@@ -190,7 +232,8 @@ public class RecursiveRandomSearch<P> {
 		boolean exploit = true;
 
 		while (countWhatIf < MAX_COUNT_WHAT_IF
-				&& countWhatIf - lastCountOptChange < MAX_COUNT_OPT_CHANGE) {
+				&& countWhatIf - lastCountOptChange < MAX_COUNT_OPT_CHANGE
+				&& !isPastDeadline()) {
 
 			if (exploit) {
 				// Start the exploitation process
@@ -201,7 +244,7 @@ public class RecursiveRandomSearch<P> {
 				double f_x_prime = 0;
 				float ro = r;
 
-				while (ro > s_t) {
+				while (ro > s_t && !isPastDeadline()) {
 					x_prime = space.getRandomSpacePoint(x_l, ro);
 					f_x_prime = costEngine.costSpacePoint(x_prime);
 					++countWhatIf;
@@ -228,7 +271,11 @@ public class RecursiveRandomSearch<P> {
 					x_opt = x_l;
 					f_x_opt = f_x_l;
 					lastCountOptChange = countWhatIf;
+					logProgress(countWhatIf, f_x_opt, startTime);
 				}
+
+				if (isPastDeadline())
+					break;
 			} // End exploitation
 
 			// Take a new random space point
@@ -254,6 +301,16 @@ public class RecursiveRandomSearch<P> {
 			}
 		} // End exploration
 
+		long elapsed = System.currentTimeMillis() - startTime;
+		if (deadline > 0 && isPastDeadline())
+			LOG.info("RRS stopped at the deadline after " + countWhatIf
+					+ " what-if calls and " + elapsed + " ms with best cost "
+					+ f_x_opt);
+		else
+			LOG.info("RRS converged after " + countWhatIf
+					+ " what-if calls and " + elapsed + " ms with best cost "
+					+ f_x_opt);
+
 		return x_opt;
 	}
 
@@ -263,36 +320,90 @@ public class RecursiveRandomSearch<P> {
 	 */
 
 	/**
-	 * Find the best space point from the collection of points
+	 * Find the best space point from the list of points
 	 * 
 	 * @param points
-	 *            the collection of space points
+	 *            the list of space points
 	 * @param costEngine
 	 *            the cost engine
 	 * @return the best space point
 	 */
-	private P findBestSpacePoint(Collection<P> points,
+	private P findBestSpacePoint(List<P> points,
 			IRRSCostEngine<P> costEngine) {
 
+		// Cost all the parameter space points
+		double[] costs = new double[points.size()];
+		costSpacePoints(points, costs, costEngine);
+
 		// Find the best parameter space point
 		double minTime = Double.MAX_VALUE;
-		double currTime = 0;
 		P bestPoint = null;
 
-		for (P point : points) {
-
-			// Cost each parameter space point
-			currTime = costEngine.costSpacePoint(point);
-
-			if (currTime < minTime) {
-				minTime = currTime;
-				bestPoint = point;
+		for (int i = 0; i < costs.length; ++i) {
+			if (costs[i] < minTime) {
+				minTime = costs[i];
+				bestPoint = points.get(i);
 			}
 		}
 
 		return bestPoint;
 	}
 
+	/**
+	 * Cost the space points. If a deadline is set, the points are costed in
+	 * batches and the deadline is checked before every batch but the first.
+	 * The points that are not costed get an infinite cost.
+	 * 
+	 * @param points
+	 *            the list of space points
+	 * @param costs
+	 *            the array to store the costs of the points
+	 * @param costEngine
+	 *            the cost engine
+	 * @return the number of points costed
+	 */
+	private int costSpacePoints(List<P> points, double[] costs,
+			IRRSCostEngine<P> costEngine) {
+
+		int numPoints = points.size();
+		int batchSize = (deadline > 0) ? BATCH_SIZE : numPoints;
+		int start = 0;
+		while (start < numPoints && (start == 0 || !isPastDeadline())) {
+			int end = Math.min(start + batchSize, numPoints);
+			double[] batch = costEngine.costSpacePoints(points.subList(start,
+					end));
+			System.arraycopy(batch, 0, costs, start, batch.length);
+			start = end;
+		}
+
+		for (int i = start; i < numPoints; ++i)
+			costs[i] = Double.POSITIVE_INFINITY;
+		return start;
+	}
+
+	/**
+	 * @return true if a deadline is set and it has passed
+	 */
+	private boolean isPastDeadline() {
+		return deadline > 0 && System.currentTimeMillis() >= deadline;
+	}
+
+	/**
+	 * Log the convergence progress of the search
+	 * 
+	 * @param countWhatIf
+	 *            the number of what-if calls so far
+	 * @param bestCost
+	 *            the best cost so far
+	 * @param startTime
+	 *            the start time of the search in ms
+	 */
+	private void logProgress(int countWhatIf, double bestCost, long startTime) {
+		LOG.info("RRS what-if calls: " + countWhatIf + ", best cost: "
+				+ bestCost + ", elapsed: "
+				+ (System.currentTimeMillis() - startTime) + " ms");
+	}
+
 	/**
 	 * Find the index of the smallest value in the array
 	 * 
@@ -1,16 +1,23 @@
 package edu.duke.starfish.jobopt.space;
 
-import java.util.EnumMap;
+import java.util.Arrays;
+import java.util.EnumSet;
 import java.util.Set;
-import java.util.Map.Entry;
 
 import org.apache.hadoop.conf.Configuration;
 
 import edu.duke.starfish.jobopt.params.HadoopParameter;
+import edu.duke.starfish.whatif.data.JobParameters;
 
 /**
  * This class represents a point in the Hadoop configuration parameter space.
  * 
+ * The parameter values are stored in their typed form, indexed by the ordinal
+ * of the parameter: the integral and boolean values in an array of longs and
+ * the fractional values in an array of doubles. Hence, the Job Optimizer can
+ * populate the job parameters of a what-if question without parsing strings
+ * (see {@link #populateParameters(JobParameters)}).
+ * 
  * @author hero
  */
 public class ParameterSpacePoint {
@@ -20,14 +27,22 @@ public class ParameterSpacePoint {
 	 * ***************************************************************
 	 */
 
-	private EnumMap<HadoopParameter, String> values;
+	private long[] longValues; // The integral and boolean values
+	private double[] doubleValues; // The fractional values
+	private int present; // Bit mask with the parameters in the point
+
+	// Constants
+	private static final HadoopParameter[] PARAMS = HadoopParameter.values();
+	private static final String TRUE = "true";
+	private static final String FALSE = "false";
 
 	/**
 	 * Default Constructor
 	 */
 	public ParameterSpacePoint() {
-		this.values = new EnumMap<HadoopParameter, String>(
-				HadoopParameter.class);
+		this.longValues = new long[PARAMS.length];
+		this.doubleValues = new double[PARAMS.length];
+		this.present = 0;
 	}
 
 	/**
@@ -39,9 +54,8 @@ public class ParameterSpacePoint {
 	 *            the value
 	 */
 	public ParameterSpacePoint(HadoopParameter param, String value) {
-		this.values = new EnumMap<HadoopParameter, String>(
-				HadoopParameter.class);
-		this.values.put(param, value);
+		this();
+		addParamValue(param, value);
 	}
 
 	/**
@@ -51,7 +65,9 @@ public class ParameterSpacePoint {
 	 *            the point to duplicate
 	 */
 	public ParameterSpacePoint(ParameterSpacePoint point) {
-		this.values = new EnumMap<HadoopParameter, String>(point.values);
+		this.longValues = point.longValues.clone();
+		this.doubleValues = point.doubleValues.clone();
+		this.present = point.present;
 	}
 
 	/* ***************************************************************
@@ -68,7 +84,19 @@ public class ParameterSpacePoint {
 	 *            the value
 	 */
 	public void addParamValue(HadoopParameter param, String value) {
-		values.put(param, value);
+		int index = param.ordinal();
+		try {
+			if (param.isFractional())
+				doubleValues[index] = Double.parseDouble(value);
+			else if (param.isBoolean())
+				longValues[index] = Boolean.parseBoolean(value) ? 1l : 0l;
+			else
+				longValues[index] = Long.parseLong(value);
+		} catch (NumberFormatException e) {
+			throw new RuntimeException("ERROR: Invalid value " + value
+					+ " for the parameter " + param, e);
+		}
+		present |= (1 << index);
 	}
 
 	/**
@@ -78,7 +106,13 @@ public class ParameterSpacePoint {
 	 *            the parameter
 	 */
 	public void addParamValues(ParameterSpacePoint point) {
-		values.putAll(point.values);
+		for (int i = 0; i < PARAMS.length; ++i) {
+			if ((point.present & (1 << i)) != 0) {
+				longValues[i] = point.longValues[i];
+				doubleValues[i] = point.doubleValues[i];
+			}
+		}
+		present |= point.present;
 	}
 
 	/**
@@ -87,7 +121,13 @@ public class ParameterSpacePoint {
 	 * @return the hadoop parameters
 	 */
 	public Set<HadoopParameter> getAllParameters() {
-		return values.keySet();
+		EnumSet<HadoopParameter> params = EnumSet
+				.noneOf(HadoopParameter.class);
+		for (int i = 0; i < PARAMS.length; ++i) {
+			if ((present & (1 << i)) != 0)
+				params.add(PARAMS[i]);
+		}
+		return params;
 	}
 
 	/**
@@ -98,7 +138,16 @@ public class ParameterSpacePoint {
 	 * @return the value
 	 */
 	public String getParameterValue(HadoopParameter param) {
-		return values.get(param);
+		int index = param.ordinal();
+		if ((present & (1 << index)) == 0)
+			return null;
+
+		if (param.isFractional())
+			return Double.toString(doubleValues[index]);
+		else if (param.isBoolean())
+			return longValues[index] != 0 ? TRUE : FALSE;
+		else
+			return Long.toString(longValues[index]);
 	}
 
 	/**
@@ -109,8 +158,73 @@ public class ParameterSpacePoint {
 	 *            the job configuration
 	 */
 	public void populateConfiguration(Configuration conf) {
-		for (Entry<HadoopParameter, String> entry : values.entrySet()) {
-			conf.set(entry.getKey().toString(), entry.getValue());
+		for (int i = 0; i < PARAMS.length; ++i) {
+			if ((present & (1 << i)) != 0)
+				conf.set(PARAMS[i].toString(), getParameterValue(PARAMS[i]));
+		}
+	}
+
+	/**
+	 * Populate the job parameters with the parameter values in this parameter
+	 * space point. This is equivalent to populating a configuration and
+	 * reading the job parameters from it, but without any string conversions.
+	 * 
+	 * @param params
+	 *            the job parameters
+	 */
+	public void populateParameters(JobParameters params) {
+		for (int i = 0; i < PARAMS.length; ++i) {
+			if ((present & (1 << i)) == 0)
+				continue;
+
+			long l = longValues[i];
+			float f = (float) doubleValues[i];
+			switch (PARAMS[i]) {
+			case SORT_MB:
+				params.setSortMB((int) l);
+				break;
+			case SPILL_PERC:
+				params.setSpillPerc(f);
+				break;
+			case SORT_REC_PERC:
+				params.setSortRecPerc(f);
+				break;
+			case SORT_FACTOR:
+				params.setSortFactor((int) l);
+				break;
+			case NUM_SPILLS_COMBINE:
+				params.setNumSpillsForCombine((int) l);
+				break;
+
+			case RED_TASKS:
+				params.setNumReducers((int) l);
+				break;
+			case INMEM_MERGE:
+				params.setInMemMergeThr(l);
+				break;
+			case SHUFFLE_IN_BUFF_PERC:
+				params.setShuffleInBuffPerc(f);
+				break;
+			case SHUFFLE_MERGE_PERC:
+				params.setShuffleMergePerc(f);
+				break;
+			case RED_IN_BUFF_PERC:
+				params.setRedInBuffPerc(f);
+				break;
+			case RED_SLOWSTART_MAPS:
+				params.setRedSlowstartMaps(f);
+				break;
+
+			case COMBINE:
+				params.setUseCombiner(l != 0);
+				break;
+			case COMPRESS_MAP_OUT:
+				params.setCompressMapOut(l != 0);
+				break;
+			case COMPRESS_OUT:
+				params.setCompressOut(l != 0);
+				break;
+			}
 		}
 	}
 
@@ -121,7 +235,10 @@ public class ParameterSpacePoint {
 	 */
 	@Override
 	public int hashCode() {
-		return 31 + ((values == null) ? 0 : values.hashCode());
+		int result = 31 + present;
+		result = 31 * result + Arrays.hashCode(longValues);
+		result = 31 * result + Arrays.hashCode(doubleValues);
+		return result;
 	}
 
 	/*
@@ -138,10 +255,11 @@ public class ParameterSpacePoint {
 		if (!(obj instanceof ParameterSpacePoint))
 			return false;
 		ParameterSpacePoint other = (ParameterSpacePoint) obj;
-		if (values == null) {
-			if (other.values != null)
-				return false;
-		} else if (!values.equals(other.values))
+		if (present != other.present)
+			return false;
+		if (!Arrays.equals(longValues, other.longValues))
+			return false;
+		if (!Arrays.equals(doubleValues, other.doubleValues))
 			return false;
 		return true;
 	}
@@ -153,7 +271,18 @@ public class ParameterSpacePoint {
 	 */
 	@Override
 	public String toString() {
-		return "ParameterSpacePoint [values=" + values + "]";
+		StringBuilder sb = new StringBuilder();
+		sb.append("ParameterSpacePoint [values={");
+		for (int i = 0; i < PARAMS.length; ++i) {
+			if ((present & (1 << i)) != 0) {
+				if (sb.charAt(sb.length() - 1) != '{')
+					sb.append(", ");
+				sb.append(PARAMS[i]).append('=').append(
+						getParameterValue(PARAMS[i]));
+			}
+		}
+		sb.append("}]");
+		return sb.toString();
 	}
 
 }
@@ -0,0 +1,204 @@
+package edu.duke.starfish.profile.junit;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+
+import edu.duke.starfish.profile.profileinfo.execution.mrtaskattempts.MRTaskAttemptInfo;
+import edu.duke.starfish.profile.profileinfo.setup.TaskTrackerInfo;
+import edu.duke.starfish.profile.profiler.ITaskLogHandler;
+
+/**
+ * An embedded HTTP server that serves the task logs like the HTTP server of a
+ * task tracker, for testing the task log downloads. The server either expects
+ * a taskid (Hadoop 0.20.2) or an attemptid (Hadoop 0.20.203.0) in the URL.
+ * 
+ * @author hero
+ */
+public class TaskLogServer implements HttpHandler {
+
+	/* ***************************************************************
+	 * DATA MEMBERS
+	 * ***************************************************************
+	 */
+
+	private HttpServer server;
+	private ExecutorService executor;
+	private boolean useAttemptId;
+
+	AtomicInteger served = new AtomicInteger(0);
+	AtomicInteger wrongFormat = new AtomicInteger(0);
+	AtomicInteger active = new AtomicInteger(0);
+	AtomicInteger maxActive = new AtomicInteger(0);
+
+	// The number of times each log fails, and the missing logs
+	Map<String, Integer> failures = Collections
+			.synchronizedMap(new HashMap<String, Integer>());
+	List<String> missing = Collections
+			.synchronizedList(new ArrayList<String>());
+
+	/**
+	 * @param useAttemptId
+	 *            whether the server expects an attemptid in the URL
+	 * @throws IOException
+	 */
+	public TaskLogServer(boolean useAttemptId) throws IOException {
+		this.useAttemptId = useAttemptId;
+		this.server = HttpServer.create(new InetSocketAddress("127.0.0.1",
+				0), 0);
+		this.executor = Executors.newCachedThreadPool();
+		server.createContext("/tasklog", this);
+		server.setExecutor(executor);
+		server.start();
+	}
+
+	/* ***************************************************************
+	 * PUBLIC METHODS
+	 * ***************************************************************
+	 */
+
+	/**
+	 * @return a task tracker that points to this server
+	 */
+	public TaskTrackerInfo getTracker() {
+		int port = server.getAddress().getPort();
+		return new TaskTrackerInfo(port, "tracker_" + port, "127.0.0.1",
+				port, 2, 2, 0l);
+	}
+
+	/**
+	 * Stop the server
+	 */
+	public void stop() {
+		server.stop(0);
+		executor.shutdownNow();
+	}
+
+	/* ***************************************************************
+	 * OVERRIDEN METHODS
+	 * ***************************************************************
+	 */
+
+	@Override
+	public void handle(HttpExchange exchange) throws IOException {
+		int current = active.incrementAndGet();
+		synchronized (maxActive) {
+			if (current > maxActive.get())
+				maxActive.set(current);
+		}
+
+		try {
+			Map<String, String> params = new HashMap<String, String>();
+			for (String param : exchange.getRequestURI().getQuery()
+					.split("&")) {
+				String[] pair = param.split("=");
+				params.put(pair[0], pair[1]);
+			}
+
+			String id = params.get(useAttemptId ? "attemptid" : "taskid");
+			if (id == null) {
+				wrongFormat.incrementAndGet();
+				respond(exchange, 400, "Bad request");
+				return;
+			}
+
+			synchronized (failures) {
+				Integer count = failures.get(id);
+				if (count != null && count > 0) {
+					failures.put(id, count - 1);
+					respond(exchange, 500, "Server error");
+					return;
+				}
+			}
+
+			if (missing.contains(id)) {
+				respond(exchange, 400, "No log");
+				return;
+			}
+
+			Thread.sleep(2);
+			served.incrementAndGet();
+			if (params.get("filter").equals("syslog")) {
+				respond(exchange, 200, "INFO Starting " + id + "\n"
+						+ "INFO Shuffling 100 bytes from " + id + "\n"
+						+ "INFO Merging 3 segments\n"
+						+ "INFO Read 100 bytes from map-output\n"
+						+ "INFO Done\n");
+			} else {
+				respond(exchange, 200, "profile of " + id + "\n");
+			}
+
+		} catch (InterruptedException e) {
+			respond(exchange, 500, "Interrupted");
+		}
+	}
+
+	/* ***************************************************************
+	 * PRIVATE METHODS
+	 * ***************************************************************
+	 */
+
+	/**
+	 * Send a response. The request stops being active before the response is
+	 * sent, because the client may start its next request as soon as it
+	 * reads the response.
+	 */
+	private void respond(HttpExchange exchange, int code, String body)
+			throws IOException {
+		active.decrementAndGet();
+		byte[] bytes = body.getBytes("UTF-8");
+		exchange.sendResponseHeaders(code, bytes.length);
+		OutputStream out = exchange.getResponseBody();
+		out.write(bytes);
+		out.close();
+	}
+
+	/* ***************************************************************
+	 * PUBLIC CLASSES
+	 * ***************************************************************
+	 */
+
+	/**
+	 * A task log handler that keeps the logs in memory
+	 * 
+	 * @author hero
+	 */
+	public static class LogCollector implements ITaskLogHandler {
+
+		Map<String, String> logs = new ConcurrentHashMap<String, String>();
+
+		@Override
+		public boolean isHandled(MRTaskAttemptInfo attempt) {
+			return logs.containsKey(attempt.getExecId());
+		}
+
+		@Override
+		public void handle(MRTaskAttemptInfo attempt, InputStream log)
+				throws IOException {
+			BufferedReader reader = new BufferedReader(new InputStreamReader(
+					log));
+			StringBuilder sb = new StringBuilder();
+			String line = null;
+			while ((line = reader.readLine()) != null)
+				sb.append(line).append('\n');
+			logs.put(attempt.getExecId(), sb.toString());
+		}
+	}
+
+}
@@ -0,0 +1,217 @@
+package edu.duke.starfish.profile.junit;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import junit.framework.TestCase;
+
+import org.junit.Test;
+
+import edu.duke.starfish.profile.profileinfo.execution.profile.MRJobProfile;
+import edu.duke.starfish.profile.utils.BinaryProfileParser;
+import edu.duke.starfish.profile.utils.ProfileUtils;
+import edu.duke.starfish.profile.utils.XMLProfileParser;
+
+/**
+ * Test the binary profile parser and the preference of the binary profile
+ * files over the XML profile files
+ * 
+ * @author hero
+ */
+public class TestBinaryProfileParser extends TestCase {
+
+	@Test
+	public void testImportExportProfile() throws IOException {
+		MRJobProfile profile = JUnitUtils.getTeraSortJobProfile();
+		profile.setClusterName("cluster");
+
+		// The binary profile must match the XML profile
+		MRJobProfile xmlProfile = XMLProfileParser
+				.importJobProfile(new ByteArrayInputStream(toXML(profile)));
+		MRJobProfile newProfile = BinaryProfileParser
+				.importJobProfile(ByteBuffer.wrap(toBinary(profile)));
+
+		assertEquals(xmlProfile.getJobId(), newProfile.getJobId());
+		assertEquals(xmlProfile.getClusterName(), newProfile.getClusterName());
+		assertTrue(Arrays.equals(xmlProfile.getJobInputs(), newProfile
+				.getJobInputs()));
+		assertEquals(xmlProfile.getAvgMapProfiles(), newProfile
+				.getAvgMapProfiles());
+		assertEquals(xmlProfile.getAvgReduceProfile(), newProfile
+				.getAvgReduceProfile());
+		assertEquals(xmlProfile.getMapProfiles(), newProfile.getMapProfiles());
+		assertEquals(xmlProfile.getCostFactors(), newProfile.getCostFactors());
+		assertEquals(xmlProfile.getCounters(), newProfile.getCounters());
+		assertEquals(xmlProfile.getStatistics(), newProfile.getStatistics());
+	}
+
+	@Test
+	public void testImportInvalidProfile() throws IOException {
+		byte[] bytes = toBinary(JUnitUtils.getTeraSortJobProfile());
+
+		// Truncated profile
+		try {
+			BinaryProfileParser.importJobProfile(ByteBuffer.wrap(bytes, 0,
+					bytes.length - 1));
+			fail();
+		} catch (RuntimeException e) {
+			assertTrue(e.getMessage().startsWith("ERROR"));
+		}
+
+		// Unsupported version
+		bytes[7] = (byte) (BinaryProfileParser.VERSION + 1);
+		try {
+			BinaryProfileParser.importJobProfile(ByteBuffer.wrap(bytes));
+			fail();
+		} catch (RuntimeException e) {
+			assertTrue(e.getMessage().startsWith("ERROR"));
+		}
+
+		// XML profile
+		try {
+			BinaryProfileParser.importJobProfile(ByteBuffer
+					.wrap(toXML(JUnitUtils.getTeraSortJobProfile())));
+			fail();
+		} catch (RuntimeException e) {
+			assertTrue(e.getMessage().startsWith("ERROR"));
+		}
+	}
+
+	@Test
+	public void testLoadJobProfile() throws IOException {
+		File dir = File.createTempFile("job_profiles", "");
+		dir.delete();
+		dir.mkdir();
+		File xmlFile = new File(dir, "profile_job_1.xml");
+		File binFile = new File(dir, "profile_job_1.bin");
+		try {
+			// Only the XML profile exists
+			MRJobProfile profile = JUnitUtils.getTeraSortJobProfile();
+			profile.setClusterName("xml");
+			XMLProfileParser.exportJobProfile(profile, xmlFile);
+			assertEquals("xml", ProfileUtils.loadJobProfile(xmlFile)
+					.getClusterName());
+
+			// The up-to-date binary profile is preferred
+			profile.setClusterName("bin");
+			BinaryProfileParser.exportJobProfile(profile, binFile);
+			binFile.setLastModified(xmlFile.lastModified());
+			assertEquals(binFile, BinaryProfileParser.getBinaryFile(xmlFile));
+			assertTrue(BinaryProfileParser.isBinaryProfile(binFile));
+			assertFalse(BinaryProfileParser.isBinaryProfile(xmlFile));
+			assertEquals("bin", ProfileUtils.loadJobProfile(xmlFile)
+					.getClusterName());
+			assertEquals("bin", ProfileUtils.loadJobProfile(binFile)
+					.getClusterName());
+
+			// A newer XML profile is preferred over a stale binary profile
+			binFile.setLastModified(xmlFile.lastModified() - 10000);
+			assertEquals("xml", ProfileUtils.loadJobProfile(xmlFile)
+					.getClusterName());
+
+			// Only the binary profile exists
+			xmlFile.delete();
+			assertEquals("bin", ProfileUtils.loadJobProfile(xmlFile)
+					.getClusterName());
+
+			binFile.delete();
+			assertNull(ProfileUtils.loadJobProfile(xmlFile));
+		} finally {
+			xmlFile.delete();
+			binFile.delete();
+			dir.delete();
+		}
+	}
+
+	@Test
+	public void testLoadCorruptJobProfile() throws IOException {
+		File dir = File.createTempFile("job_profiles", "");
+		dir.delete();
+		dir.mkdir();
+		File xmlFile = new File(dir, "profile_job_1.xml");
+		File binFile = new File(dir, "profile_job_1.bin");
+		try {
+			MRJobProfile profile = JUnitUtils.getTeraSortJobProfile();
+			profile.setClusterName("xml");
+			XMLProfileParser.exportJobProfile(profile, xmlFile);
+			profile.setClusterName("bin");
+			byte[] bytes = toBinary(profile);
+
+			// A truncated binary profile falls back to the XML profile
+			writeBytes(binFile, bytes, bytes.length - 1);
+			binFile.setLastModified(xmlFile.lastModified());
+			assertTrue(BinaryProfileParser.isBinaryProfile(binFile));
+			assertEquals("xml", ProfileUtils.loadJobProfile(xmlFile)
+					.getClusterName());
+			assertEquals("xml", ProfileUtils.loadJobProfile(binFile)
+					.getClusterName());
+
+			// So does a binary profile of an unsupported version
+			bytes[7] = (byte) (BinaryProfileParser.VERSION + 1);
+			writeBytes(binFile, bytes, bytes.length);
+			binFile.setLastModified(xmlFile.lastModified());
+			assertFalse(BinaryProfileParser.isBinaryProfile(binFile));
+			assertEquals("xml", ProfileUtils.loadJobProfile(xmlFile)
+					.getClusterName());
+			assertEquals("xml", ProfileUtils.loadJobProfile(binFile)
+					.getClusterName());
+
+			// Without the XML profile, there is nothing to load
+			xmlFile.delete();
+			assertNull(ProfileUtils.loadJobProfile(binFile));
+		} finally {
+			xmlFile.delete();
+			binFile.delete();
+			dir.delete();
+		}
+	}
+
+	/**
+	 * @param profile
+	 *            the job profile
+	 * @return the binary representation of the profile
+	 * @throws IOException
+	 */
+	private byte[] toBinary(MRJobProfile profile) throws IOException {
+		ByteArrayOutputStream baos = new ByteArrayOutputStream();
+		BinaryProfileParser.exportJobProfile(profile, baos);
+		return baos.toByteArray();
+	}
+
+	/**
+	 * @param file
+	 *            the file to write to
+	 * @param bytes
+	 *            the bytes to write
+	 * @param length
+	 *            the number of bytes to write
+	 * @throws IOException
+	 */
+	private void writeBytes(File file, byte[] bytes, int length)
+			throws IOException {
+		FileOutputStream out = new FileOutputStream(file);
+		try {
+			out.write(bytes, 0, length);
+		} finally {
+			out.close();
+		}
+	}
+
+	/**
+	 * @param profile
+	 *            the job profile
+	 * @return the XML representation of the profile
+	 */
+	private byte[] toXML(MRJobProfile profile) {
+		ByteArrayOutputStream baos = new ByteArrayOutputStream();
+		XMLProfileParser.exportJobProfile(profile, new PrintStream(baos));
+		return baos.toByteArray();
+	}
+
+}
@@ -0,0 +1,163 @@
+package edu.duke.starfish.profile.junit;
+
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Random;
+
+import junit.framework.TestCase;
+
+import org.junit.Test;
+
+import edu.duke.starfish.profile.profileinfo.execution.profile.DoubleEnumMap;
+import edu.duke.starfish.profile.profileinfo.execution.profile.LongEnumMap;
+import edu.duke.starfish.profile.profileinfo.execution.profile.MRMapProfile;
+import edu.duke.starfish.profile.profileinfo.execution.profile.enums.MRCounter;
+import edu.duke.starfish.profile.profileinfo.execution.profile.enums.MRStatistics;
+
+/**
+ * Test the primitive enum maps used by the execution profiles
+ * 
+ * @author hero
+ */
+public class TestEnumValueMap extends TestCase {
+
+	private static final MRCounter[] COUNTERS = MRCounter.values();
+
+	/**
+	 * Test that a long enum map behaves like an enum map under a random
+	 * sequence of operations
+	 */
+	@Test
+	public void testLongEnumMapRandomized() {
+		Random random = new Random(23);
+		LongEnumMap<MRCounter> map = new LongEnumMap<MRCounter>(COUNTERS);
+		EnumMap<MRCounter, Long> expected = new EnumMap<MRCounter, Long>(
+				MRCounter.class);
+
+		for (int i = 0; i < 5000; ++i) {
+			MRCounter counter = COUNTERS[random.nextInt(COUNTERS.length)];
+			long value = random.nextInt(1000);
+
+			switch (random.nextInt(5)) {
+			case 0:
+				assertEquals(expected.put(counter, value), map.put(counter,
+						value));
+				break;
+			case 1:
+				expected.put(counter, value);
+				map.putValue(counter, value);
+				break;
+			case 2:
+				assertEquals(expected.remove(counter), map.remove(counter));
+				break;
+			case 3:
+				// Remove through the iterator
+				Iterator<Map.Entry<MRCounter, Long>> iter = map.entrySet()
+						.iterator();
+				while (iter.hasNext()) {
+					if (iter.next().getKey() == counter)
+						iter.remove();
+				}
+				expected.remove(counter);
+				break;
+			default:
+				if (random.nextInt(50) == 0) {
+					expected.clear();
+					map.clear();
+				}
+				break;
+			}
+
+			assertEquals(expected.containsKey(counter), map.contains(counter));
+			assertEquals(expected.get(counter), map.get(counter));
+			assertEquals(expected.size(), map.size());
+		}
+
+		// Compare the map semantics
+		assertEquals(expected, map);
+		assertEquals(map, expected);
+		assertEquals(expected.hashCode(), map.hashCode());
+		assertEquals(expected.toString(), map.toString());
+
+		// Compare the copies
+		LongEnumMap<MRCounter> copy = new LongEnumMap<MRCounter>(map);
+		assertEquals(expected, copy);
+		map.putValue(MRCounter.MAP_INPUT_BYTES, -1l);
+		assertEquals(expected, copy);
+		copy.clear();
+		assertEquals(-1l, map.getValue(MRCounter.MAP_INPUT_BYTES, 0l));
+		assertTrue(copy.isEmpty());
+
+		// Copies of a shared map share the arrays until either is modified
+		map.markShared();
+		LongEnumMap<MRCounter> shared = new LongEnumMap<MRCounter>(map);
+		long outBytes = map.getValue(MRCounter.MAP_OUTPUT_BYTES, 0l);
+		map.putValue(MRCounter.MAP_INPUT_BYTES, -2l);
+		shared.putValue(MRCounter.MAP_OUTPUT_BYTES, -3l);
+		assertEquals(-1l, shared.getValue(MRCounter.MAP_INPUT_BYTES, 0l));
+		assertEquals(outBytes, map.getValue(MRCounter.MAP_OUTPUT_BYTES, 0l));
+		copy.putAll(expected);
+		LongEnumMap<MRCounter> other = new LongEnumMap<MRCounter>(COUNTERS);
+		other.putAll(expected);
+		assertEquals(expected, other);
+	}
+
+	/**
+	 * Test the primitive getters and the map views of a profile
+	 */
+	@Test
+	public void testProfileViews() {
+		MRMapProfile prof = new MRMapProfile("test");
+		assertEquals(7l, prof.getCounter(MRCounter.MAP_INPUT_BYTES, 7l));
+		assertNull(prof.getCounter(MRCounter.MAP_INPUT_BYTES));
+
+		prof.addCounter(MRCounter.MAP_INPUT_BYTES, 100l);
+		prof.addStatistic(MRStatistics.INPUT_PAIR_WIDTH, 2.5d);
+		assertEquals(100l, prof.getCounter(MRCounter.MAP_INPUT_BYTES, 0l));
+		assertEquals(Long.valueOf(100l), prof.getCounters().get(
+				MRCounter.MAP_INPUT_BYTES));
+		assertEquals(2.5d, prof.getStatistic(MRStatistics.INPUT_PAIR_WIDTH,
+				0d));
+
+		// Writes through the views are visible to the primitive getters
+		prof.getCounters().put(MRCounter.MAP_INPUT_BYTES, 200l);
+		prof.getStatistics().remove(MRStatistics.INPUT_PAIR_WIDTH);
+		assertEquals(200l, prof.getCounter(MRCounter.MAP_INPUT_BYTES, 0l));
+		assertFalse(prof.containsStatistic(MRStatistics.INPUT_PAIR_WIDTH));
+
+		// Copies are independent
+		MRMapProfile copy = new MRMapProfile(prof);
+		copy.addCounter(MRCounter.MAP_INPUT_BYTES, 300l);
+		assertEquals(200l, prof.getCounter(MRCounter.MAP_INPUT_BYTES, 0l));
+		assertEquals(300l, copy.getCounter(MRCounter.MAP_INPUT_BYTES, 0l));
+	}
+
+	/**
+	 * Test the averaging of the primitive maps
+	 */
+	@Test
+	public void testAverages() {
+		double[] sums = new double[MRStatistics.values().length];
+		int[] counts = new int[sums.length];
+
+		DoubleEnumMap<MRStatistics> map1 = new DoubleEnumMap<MRStatistics>(
+				MRStatistics.values());
+		map1.putValue(MRStatistics.INPUT_PAIR_WIDTH, 1d);
+		map1.putValue(MRStatistics.MAP_SIZE_SEL, 3d);
+		DoubleEnumMap<MRStatistics> map2 = new DoubleEnumMap<MRStatistics>(
+				MRStatistics.values());
+		map2.putValue(MRStatistics.INPUT_PAIR_WIDTH, 4d);
+
+		map1.accumulate(sums, counts, 2);
+		map2.accumulate(sums, counts, 1);
+
+		DoubleEnumMap<MRStatistics> avg = new DoubleEnumMap<MRStatistics>(
+				MRStatistics.values());
+		avg.putAverages(sums, counts);
+		assertEquals(2, avg.size());
+		assertEquals(2d, avg.get(MRStatistics.INPUT_PAIR_WIDTH));
+		assertEquals(3d, avg.get(MRStatistics.MAP_SIZE_SEL));
+	}
+
+}
@@ -0,0 +1,191 @@
+package edu.duke.starfish.profile.junit;
+
+import static edu.duke.starfish.profile.utils.Constants.MR_INPUT_DIR;
+import static edu.duke.starfish.profile.utils.Constants.MR_MAX_SPLIT_SIZE;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.util.List;
+
+import junit.framework.TestCase;
+
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.mapreduce.InputSplit;
+import org.apache.hadoop.mapreduce.lib.input.FileSplit;
+import org.junit.Test;
+
+import edu.duke.starfish.profile.utils.InputSplitCache;
+
+/**
+ * Test the persistent cache of input splits, using the local file system in
+ * place of HDFS
+ *
+ * @author hero
+ */
+public class TestInputSplitCache extends TestCase {
+
+	@Test
+	public void testGetSplits() throws IOException, InterruptedException {
+		File inputDir = createTempDir("input");
+		File cacheDir = createTempDir("split_cache");
+		try {
+			createFile(inputDir, "part-0", 10);
+			createFile(inputDir, "part-1", 20);
+			createFile(inputDir, "part-2", 30);
+
+			Configuration conf = new Configuration();
+			conf.set(MR_INPUT_DIR, inputDir.getAbsolutePath());
+			conf.set(InputSplitCache.SPLIT_CACHE_DIR, cacheDir
+					.getAbsolutePath());
+
+			// The first request computes the splits
+			List<InputSplit> splits = getSplits(conf, false);
+			assertEquals(3, splits.size());
+
+			// The second request loads the same splits from the cache
+			List<InputSplit> cached = getSplits(conf, true);
+			assertEquals(splits.size(), cached.size());
+			for (int i = 0; i < splits.size(); ++i) {
+				FileSplit split = (FileSplit) splits.get(i);
+				FileSplit cachedSplit = (FileSplit) cached.get(i);
+				assertEquals(split.getPath(), cachedSplit.getPath());
+				assertEquals(split.getStart(), cachedSplit.getStart());
+				assertEquals(split.getLength(), cachedSplit.getLength());
+			}
+
+			// A different split size creates a new entry
+			conf.setLong(MR_MAX_SPLIT_SIZE, 15l);
+			assertEquals(5, getSplits(conf, false).size());
+			assertEquals(5, getSplits(conf, true).size());
+
+			// Adding a file modifies the directory signature
+			createFile(inputDir, "part-3", 10);
+			inputDir.setLastModified(inputDir.lastModified() + 10000);
+			assertEquals(6, getSplits(conf, false).size());
+			assertEquals(6, getSplits(conf, true).size());
+
+			// Explicit invalidation
+			assertTrue(InputSplitCache.invalidate(conf));
+			assertFalse(InputSplitCache.invalidate(conf));
+			assertEquals(6, getSplits(conf, false).size());
+
+			// Disabled cache
+			conf.setBoolean(InputSplitCache.SPLIT_CACHE_ENABLED, false);
+			long hits = InputSplitCache.getNumHits();
+			long misses = InputSplitCache.getNumMisses();
+			assertEquals(6, InputSplitCache.getSplits(conf).size());
+			assertEquals(hits, InputSplitCache.getNumHits());
+			assertEquals(misses, InputSplitCache.getNumMisses());
+
+			conf.setBoolean(InputSplitCache.SPLIT_CACHE_ENABLED, true);
+			assertEquals(1, InputSplitCache.clear(conf));
+			assertEquals(6, getSplits(conf, false).size());
+		} finally {
+			deleteDir(inputDir);
+			deleteDir(cacheDir);
+		}
+	}
+
+	@Test
+	public void testCorruptCacheFile() throws IOException,
+			InterruptedException {
+		File inputDir = createTempDir("input");
+		File cacheDir = createTempDir("split_cache");
+		try {
+			createFile(inputDir, "part-0", 10);
+
+			Configuration conf = new Configuration();
+			conf.set(MR_INPUT_DIR, inputDir.getAbsolutePath());
+			conf.set(InputSplitCache.SPLIT_CACHE_DIR, cacheDir
+					.getAbsolutePath());
+			assertEquals(1, getSplits(conf, false).size());
+
+			// A truncated cache file is ignored and replaced
+			File[] cacheFiles = cacheDir.listFiles();
+			assertEquals(1, cacheFiles.length);
+			FileWriter writer = new FileWriter(cacheFiles[0]);
+			writer.write("SFSC");
+			writer.close();
+
+			assertEquals(1, getSplits(conf, false).size());
+			assertEquals(1, getSplits(conf, true).size());
+		} finally {
+			deleteDir(inputDir);
+			deleteDir(cacheDir);
+		}
+	}
+
+	/**
+	 * Get the splits from the cache and check whether the cache was hit
+	 *
+	 * @param conf
+	 *            the job configuration
+	 * @param hit
+	 *            whether the cache is expected to be hit
+	 * @return the input splits
+	 * @throws IOException
+	 * @throws InterruptedException
+	 */
+	private List<InputSplit> getSplits(Configuration conf, boolean hit)
+			throws IOException, InterruptedException {
+		long hits = InputSplitCache.getNumHits();
+		long misses = InputSplitCache.getNumMisses();
+		List<InputSplit> splits = InputSplitCache.getSplits(conf);
+
+		assertEquals(hit ? hits + 1 : hits, InputSplitCache.getNumHits());
+		assertEquals(hit ? misses : misses + 1, InputSplitCache.getNumMisses());
+		return splits;
+	}
+
+	/**
+	 * @param prefix
+	 *            the directory name prefix
+	 * @return a new temporary directory
+	 * @throws IOException
+	 */
+	private File createTempDir(String prefix) throws IOException {
+		File dir = File.createTempFile(prefix, "");
+		dir.delete();
+		dir.mkdir();
+		return dir;
+	}
+
+	/**
+	 * Create a file with the given number of bytes
+	 *
+	 * @param dir
+	 *            the parent directory
+	 * @param name
+	 *            the file name
+	 * @param size
+	 *            the file size
+	 * @throws IOException
+	 */
+	private void createFile(File dir, String name, int size)
+			throws IOException {
+		FileWriter writer = new FileWriter(new File(dir, name));
+		try {
+			for (int i = 0; i < size; ++i)
+				writer.write('a');
+		} finally {
+			writer.close();
+		}
+	}
+
+	/**
+	 * Delete a directory with its files
+	 *
+	 * @param dir
+	 *            the directory
+	 */
+	private void deleteDir(File dir) {
+		File[] files = dir.listFiles();
+		if (files != null) {
+			for (File file : files)
+				file.delete();
+		}
+		dir.delete();
+	}
+
+}
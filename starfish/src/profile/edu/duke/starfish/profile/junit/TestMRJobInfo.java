@@ -0,0 +1,143 @@
+package edu.duke.starfish.profile.junit;
+
+import java.util.ArrayList;
+import java.util.Date;
+
+import junit.framework.TestCase;
+
+import org.junit.Test;
+
+import edu.duke.starfish.profile.profileinfo.execution.MRExecutionStatus;
+import edu.duke.starfish.profile.profileinfo.execution.jobs.MRJobInfo;
+import edu.duke.starfish.profile.profileinfo.execution.mrtaskattempts.MRMapAttemptInfo;
+import edu.duke.starfish.profile.profileinfo.execution.mrtaskattempts.MRReduceAttemptInfo;
+import edu.duke.starfish.profile.profileinfo.execution.mrtasks.MRMapInfo;
+import edu.duke.starfish.profile.profileinfo.execution.mrtasks.MRReduceInfo;
+import edu.duke.starfish.profile.profileinfo.setup.SlaveHostInfo;
+
+/**
+ * JUnit test for finding the tasks and attempts of a job by id
+ * 
+ * @author hero
+ */
+public class TestMRJobInfo extends TestCase {
+
+	private static final String JOB_ID = "201011062135_0003";
+
+	@Test
+	public void testFindAttempts() {
+		MRJobInfo job = new MRJobInfo();
+		for (int i = 0; i < 100; ++i)
+			job.addMapTaskInfo(createMap(i));
+		job.addReduceTaskInfo(createReduce(0));
+
+		String mapAttemptId = getAttemptId("m", 42, 0);
+		assertEquals(mapAttemptId, job.findMRMapAttempt(mapAttemptId)
+				.getExecId());
+		assertEquals(getTaskId("m", 42), job.findMRMapTask(getTaskId("m", 42))
+				.getExecId());
+		assertNull(job.findMRMapAttempt(getAttemptId("m", 100, 0)));
+		assertNull(job.findMRMapAttempt("invalid"));
+		assertNull(job.findMRMapTask(null));
+
+		String redAttemptId = getAttemptId("r", 0, 0);
+		assertEquals(redAttemptId, job.findMRReduceAttempt(redAttemptId)
+				.getExecId());
+		assertNull(job.findMRReduceAttempt(mapAttemptId));
+	}
+
+	@Test
+	public void testFindAfterChanges() {
+		MRJobInfo job = new MRJobInfo();
+		job.addMapTaskInfo(createMap(0));
+		assertNotNull(job.findMRMapAttempt(getAttemptId("m", 0, 0)));
+
+		// A task added after the index was built
+		job.addMapTaskInfo(createMap(1));
+		assertNotNull(job.findMRMapAttempt(getAttemptId("m", 1, 0)));
+
+		// An attempt added to a task after the index was built
+		MRMapInfo map = job.findMRMapTask(getTaskId("m", 1));
+		map.addAttempt(createMapAttempt(1, 1));
+		assertSame(map.getAttempts().get(1), job
+				.findMRMapAttempt(getAttemptId("m", 1, 1)));
+
+		// The tasks of a copied job
+		MRJobInfo other = new MRJobInfo();
+		other.addMapTaskInfo(createMap(2));
+		job.copyOtherJob(other);
+		assertNull(job.findMRMapAttempt(getAttemptId("m", 0, 0)));
+		assertNotNull(job.findMRMapAttempt(getAttemptId("m", 2, 0)));
+
+		// The tasks of a deep copy
+		MRJobInfo copy = new MRJobInfo(job);
+		assertNotSame(job.findMRMapAttempt(getAttemptId("m", 2, 0)), copy
+				.findMRMapAttempt(getAttemptId("m", 2, 0)));
+		assertEquals(job.findMRMapAttempt(getAttemptId("m", 2, 0)), copy
+				.findMRMapAttempt(getAttemptId("m", 2, 0)));
+	}
+
+	/**
+	 * @param i
+	 *            the task number
+	 * @return a map task with one attempt
+	 */
+	private MRMapInfo createMap(int i) {
+		MRMapInfo map = new MRMapInfo(i, getTaskId("m", i), new Date(),
+				new Date(), MRExecutionStatus.SUCCESS, null,
+				new ArrayList<SlaveHostInfo>(0));
+		map.addAttempt(createMapAttempt(i, 0));
+		return map;
+	}
+
+	/**
+	 * @param i
+	 *            the task number
+	 * @param j
+	 *            the attempt number
+	 * @return a map attempt
+	 */
+	private MRMapAttemptInfo createMapAttempt(int i, int j) {
+		return new MRMapAttemptInfo(i, getAttemptId("m", i, j), new Date(),
+				new Date(), MRExecutionStatus.SUCCESS, null, null, null);
+	}
+
+	/**
+	 * @param i
+	 *            the task number
+	 * @return a reduce task with one attempt
+	 */
+	private MRReduceInfo createReduce(int i) {
+		MRReduceInfo reduce = new MRReduceInfo(i, getTaskId("r", i),
+				new Date(), new Date(), MRExecutionStatus.SUCCESS, null);
+		reduce.addAttempt(new MRReduceAttemptInfo(i, getAttemptId("r", i, 0),
+				new Date(), new Date(), MRExecutionStatus.SUCCESS, null, null,
+				new Date(), new Date()));
+		return reduce;
+	}
+
+	/**
+	 * @param type
+	 *            the task type (m or r)
+	 * @param i
+	 *            the task number
+	 * @return the task id
+	 */
+	private String getTaskId(String type, int i) {
+		return String.format("task_%s_%s_%06d", JOB_ID, type, i);
+	}
+
+	/**
+	 * @param type
+	 *            the task type (m or r)
+	 * @param i
+	 *            the task number
+	 * @param j
+	 *            the attempt number
+	 * @return the attempt id
+	 */
+	private String getAttemptId(String type, int i, int j) {
+		return String.format("attempt_%s_%s_%06d_%d", JOB_ID, type, i, j);
+	}
+
+}
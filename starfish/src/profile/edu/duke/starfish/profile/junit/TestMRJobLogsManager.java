@@ -0,0 +1,192 @@
+package edu.duke.starfish.profile.junit;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.util.List;
+
+import junit.framework.TestCase;
+
+import org.junit.Test;
+
+import edu.duke.starfish.profile.profileinfo.execution.MRExecutionStatus;
+import edu.duke.starfish.profile.profileinfo.execution.jobs.MRJobInfo;
+import edu.duke.starfish.profile.profiler.MRJobLogsManager;
+
+/**
+ * JUnit test for listing the jobs of a history directory, using the job
+ * summary index and rescanning the directory for new jobs
+ * 
+ * @author hero
+ */
+public class TestMRJobLogsManager extends TestCase {
+
+	private static final String INDEX_FILE = ".starfish_job_summaries";
+	private static final int NUM_JOBS = 20;
+
+	@Test
+	public void testListJobs() throws IOException {
+		File historyDir = createHistoryDir();
+		try {
+			for (int i = NUM_JOBS; i > 0; --i)
+				createJobHistory(historyDir, i, "job" + i);
+
+			MRJobLogsManager manager = new MRJobLogsManager();
+			manager.setNumThreads(4);
+			manager.setHistoryDir(historyDir.getAbsolutePath());
+
+			List<MRJobInfo> jobs = manager.getAllMRJobInfos();
+			assertEquals(NUM_JOBS, jobs.size());
+			for (int i = 0; i < NUM_JOBS; ++i) {
+				MRJobInfo job = jobs.get(i);
+				assertEquals(getJobId(i + 1), job.getExecId());
+				assertEquals("job" + (i + 1), job.getName());
+				assertEquals("hero", job.getUser());
+				assertEquals(1000l * (i + 1), job.getStartTime().getTime());
+				assertEquals(MRExecutionStatus.SUCCESS, job.getStatus());
+			}
+
+			assertTrue(new File(historyDir, INDEX_FILE).isFile());
+		} finally {
+			deleteHistoryDir(historyDir);
+		}
+	}
+
+	@Test
+	public void testSummaryIndex() throws IOException {
+		File historyDir = createHistoryDir();
+		try {
+			createJobHistory(historyDir, 1, "job1");
+			File statFile = createJobHistory(historyDir, 2, "job2");
+
+			MRJobLogsManager manager = new MRJobLogsManager();
+			manager.setHistoryDir(historyDir.getAbsolutePath());
+			assertEquals(2, manager.getAllMRJobInfos().size());
+
+			// An unchanged modification time implies that the indexed summary
+			// is used instead of parsing the history file
+			long modTime = statFile.lastModified();
+			writeFile(statFile, "Job JOBID=\"" + getJobId(2)
+					+ "\" JOBNAME=\"renamed\" .\n");
+			statFile.setLastModified(modTime);
+
+			manager = new MRJobLogsManager();
+			manager.setHistoryDir(historyDir.getAbsolutePath());
+			assertEquals("job2", manager.getMRJobInfo(getJobId(2)).getName());
+
+			// A modified history file is parsed again
+			statFile.setLastModified(modTime - 10000);
+			manager = new MRJobLogsManager();
+			manager.setHistoryDir(historyDir.getAbsolutePath());
+			assertEquals("renamed", manager.getAllMRJobInfos().get(1)
+					.getName());
+		} finally {
+			deleteHistoryDir(historyDir);
+		}
+	}
+
+	@Test
+	public void testRescanHistoryDirectory() throws IOException {
+		File historyDir = createHistoryDir();
+		try {
+			createJobHistory(historyDir, 1, "job1");
+
+			MRJobLogsManager manager = new MRJobLogsManager();
+			manager.setHistoryDir(historyDir.getAbsolutePath());
+			assertEquals(1, manager.getAllMRJobInfos().size());
+			assertTrue(manager.rescanHistoryDirectory().isEmpty());
+
+			createJobHistory(historyDir, 2, "job2");
+			List<String> newJobIds = manager.rescanHistoryDirectory();
+			assertEquals(1, newJobIds.size());
+			assertEquals(getJobId(2), newJobIds.get(0));
+
+			List<MRJobInfo> jobs = manager.getAllMRJobInfos();
+			assertEquals(2, jobs.size());
+			assertEquals("job2", jobs.get(1).getName());
+		} finally {
+			deleteHistoryDir(historyDir);
+		}
+	}
+
+	/**
+	 * @param id
+	 *            the job number
+	 * @return the job id
+	 */
+	private String getJobId(int id) {
+		return String.format("job_201011062135_%04d", id);
+	}
+
+	/**
+	 * Create the configuration and statistics files of a job
+	 * 
+	 * @param historyDir
+	 *            the history directory
+	 * @param id
+	 *            the job number
+	 * @param name
+	 *            the job name
+	 * @return the statistics file
+	 * @throws IOException
+	 */
+	private File createJobHistory(File historyDir, int id, String name)
+			throws IOException {
+		String jobId = getJobId(id);
+		writeFile(new File(historyDir, "localhost_1289097300000_" + jobId
+				+ "_conf.xml"), "<configuration/>\n");
+
+		File statFile = new File(historyDir, "localhost_1289097300000_"
+				+ jobId + "_hero_" + name);
+		writeFile(statFile, "Job JOBID=\"" + jobId + "\" JOBNAME=\"" + name
+				+ "\" USER=\"hero\" .\n" + "Job JOBID=\"" + jobId
+				+ "\" LAUNCH_TIME=\"" + (1000l * id) + "\" .\n"
+				+ "Job JOBID=\"" + jobId + "\" FINISH_TIME=\""
+				+ (1000l * id + 500) + "\" JOB_STATUS=\"SUCCESS\" .\n");
+		return statFile;
+	}
+
+	/**
+	 * Write the contents into the file
+	 * 
+	 * @param file
+	 *            the file
+	 * @param contents
+	 *            the contents
+	 * @throws IOException
+	 */
+	private void writeFile(File file, String contents) throws IOException {
+		FileWriter writer = new FileWriter(file);
+		try {
+			writer.write(contents);
+		} finally {
+			writer.close();
+		}
+	}
+
+	/**
+	 * @return a new empty history directory
+	 * @throws IOException
+	 */
+	private File createHistoryDir() throws IOException {
+		File dir = File.createTempFile("history", "");
+		dir.delete();
+		dir.mkdir();
+		return dir;
+	}
+
+	/**
+	 * Delete the history directory and all its files
+	 * 
+	 * @param dir
+	 *            the history directory
+	 */
+	private void deleteHistoryDir(File dir) {
+		File[] files = dir.listFiles();
+		if (files != null)
+			for (File file : files)
+				file.delete();
+		dir.delete();
+	}
+
+}
@@ -0,0 +1,199 @@
+package edu.duke.starfish.profile.junit;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import junit.framework.TestCase;
+
+import org.junit.Test;
+
+import edu.duke.starfish.profile.profileinfo.execution.MRExecutionStatus;
+import edu.duke.starfish.profile.profileinfo.execution.jobs.MRJobInfo;
+import edu.duke.starfish.profile.profileinfo.execution.mrtaskattempts.MRMapAttemptInfo;
+import edu.duke.starfish.profile.profileinfo.execution.mrtaskattempts.MRReduceAttemptInfo;
+import edu.duke.starfish.profile.profileinfo.execution.mrtasks.MRMapInfo;
+import edu.duke.starfish.profile.profileinfo.execution.mrtasks.MRReduceInfo;
+import edu.duke.starfish.profile.profileinfo.metrics.DataTransfer;
+import edu.duke.starfish.profile.profileinfo.setup.SlaveHostInfo;
+import edu.duke.starfish.profile.profiler.loaders.MRJobTransfersLoader;
+
+/**
+ * JUnit test for loading the data transfers from the syslogs of the reducers,
+ * with one and with several threads
+ * 
+ * @author hero
+ */
+public class TestMRJobTransfersLoader extends TestCase {
+
+	private static final String JOB_ID = "201011062135_0003";
+	private static final String PREFIX = " INFO org.apache.hadoop.mapred.ReduceTask: ";
+	private static final int NUM_MAPS = 3;
+	private static final int NUM_REDUCERS = 4;
+
+	@Test
+	public void testLoadDataTransfers() throws IOException, ParseException {
+		File transfersDir = createTransfersDir();
+		try {
+			List<DataTransfer> serial = loadTransfers(transfersDir, 1);
+			List<DataTransfer> parallel = loadTransfers(transfersDir, 4);
+
+			// Map 1 failed and map 2 was empty for every reducer
+			assertEquals(NUM_REDUCERS, serial.size());
+			assertEquals(serial, parallel);
+
+			SimpleDateFormat format = new SimpleDateFormat(
+					"yyyy-MM-dd HH:mm:ss,SSS");
+			for (int r = 0; r < NUM_REDUCERS; ++r) {
+				DataTransfer transfer = parallel.get(r);
+				assertEquals(getAttemptId("m", 0), transfer.getSource()
+						.getExecId());
+				assertEquals(getAttemptId("r", r), transfer.getDestination()
+						.getExecId());
+				assertEquals(1000l + r, transfer.getUncomprData());
+				assertEquals(5000l + r, transfer.getComprData());
+				assertEquals(format.parse(getTimestamp(r, 0)), transfer
+						.getStartTime());
+				assertEquals(format.parse(getTimestamp(r, 5)), transfer
+						.getEndTime());
+			}
+		} finally {
+			for (File file : transfersDir.listFiles())
+				file.delete();
+			transfersDir.delete();
+		}
+	}
+
+	/**
+	 * Load the data transfers of a new job from the transfers directory
+	 * 
+	 * @param transfersDir
+	 *            the transfers directory
+	 * @param numThreads
+	 *            the number of threads
+	 * @return the data transfers of the job
+	 */
+	private List<DataTransfer> loadTransfers(File transfersDir,
+			int numThreads) {
+		MRJobInfo job = createJob();
+		MRJobTransfersLoader loader = new MRJobTransfersLoader(job,
+				transfersDir.getAbsolutePath(), numThreads);
+		assertTrue(loader.loadDataTransfers(job));
+		return job.getDataTransfers();
+	}
+
+	/**
+	 * @return a job with three map tasks and four reduce tasks
+	 */
+	private MRJobInfo createJob() {
+		Date start = new Date(0l);
+		Date end = new Date(1000l);
+
+		MRJobInfo job = new MRJobInfo(0, "job_" + JOB_ID, start, end,
+				MRExecutionStatus.SUCCESS, null, "job", "user");
+		List<SlaveHostInfo> hosts = new ArrayList<SlaveHostInfo>(0);
+		for (int m = 0; m < NUM_MAPS; ++m) {
+			MRMapInfo map = new MRMapInfo(m, getTaskId("m", m), start, end,
+					MRExecutionStatus.SUCCESS, null, hosts);
+			map.addAttempt(new MRMapAttemptInfo(m, getAttemptId("m", m), start,
+					end, MRExecutionStatus.SUCCESS, null, null, null));
+			job.addMapTaskInfo(map);
+		}
+
+		for (int r = 0; r < NUM_REDUCERS; ++r) {
+			MRReduceInfo reduce = new MRReduceInfo(r, getTaskId("r", r),
+					start, end, MRExecutionStatus.SUCCESS, null);
+			reduce.addAttempt(new MRReduceAttemptInfo(r, getAttemptId("r", r),
+					start, end, MRExecutionStatus.SUCCESS, null, null, end,
+					end));
+			job.addReduceTaskInfo(reduce);
+		}
+
+		return job;
+	}
+
+	/**
+	 * Create a transfers directory with a syslog for each reducer. Each
+	 * reducer shuffles the output of map 0, fails to shuffle the output of
+	 * map 1, and shuffles the empty output of map 2.
+	 * 
+	 * @return the transfers directory
+	 * @throws IOException
+	 */
+	private File createTransfersDir() throws IOException {
+		File dir = File.createTempFile("transfers", "");
+		dir.delete();
+		dir.mkdir();
+
+		for (int r = 0; r < NUM_REDUCERS; ++r) {
+			File syslog = new File(dir, "transfers_" + getAttemptId("r", r));
+			FileWriter writer = new FileWriter(syslog);
+			try {
+				writer.write(getTimestamp(r, 0) + PREFIX + "Shuffling "
+						+ (1000 + r) + " bytes (" + (5000 + r)
+						+ " raw bytes) into RAM from " + getAttemptId("m", 0)
+						+ "\n");
+				writer.write(getTimestamp(r, 1) + PREFIX + "Shuffling 300 "
+						+ "bytes (400 raw bytes) into RAM from "
+						+ getAttemptId("m", 1) + "\n");
+				writer.write(getTimestamp(r, 2) + PREFIX
+						+ "Failed to shuffle from " + getAttemptId("m", 1)
+						+ "\n");
+				writer.write(getTimestamp(r, 3) + PREFIX + "Shuffling 2 bytes "
+						+ "(2 raw bytes) into RAM from " + getAttemptId("m", 2)
+						+ "\n");
+				writer.write(getTimestamp(r, 4) + PREFIX + "Read 2 bytes from "
+						+ "map-output for " + getAttemptId("m", 2) + "\n");
+				writer.write(getTimestamp(r, 5) + PREFIX + "Read "
+						+ (1000 + r) + " bytes from map-output for "
+						+ getAttemptId("m", 0) + "\n");
+				writer.write(getTimestamp(r, 6) + PREFIX + "Interleaved "
+						+ "on-disk merge complete: 0 files left.\n");
+			} finally {
+				writer.close();
+			}
+		}
+
+		return dir;
+	}
+
+	/**
+	 * @param r
+	 *            the reducer number
+	 * @param i
+	 *            the line number
+	 * @return a timestamp for the line of the reducer
+	 */
+	private String getTimestamp(int r, int i) {
+		return String.format("2011-03-27 0%d:59:%02d,%03d", r, 50 + i,
+				10 * i + r);
+	}
+
+	/**
+	 * @param type
+	 *            the task type (m or r)
+	 * @param i
+	 *            the task number
+	 * @return the task id
+	 */
+	private String getTaskId(String type, int i) {
+		return String.format("task_%s_%s_%06d", JOB_ID, type, i);
+	}
+
+	/**
+	 * @param type
+	 *            the task type (m or r)
+	 * @param i
+	 *            the task number
+	 * @return the id of the first attempt of the task
+	 */
+	private String getAttemptId(String type, int i) {
+		return String.format("attempt_%s_%s_%06d_0", JOB_ID, type, i);
+	}
+
+}
@@ -0,0 +1,249 @@
+package edu.duke.starfish.profile.junit;
+
+import static edu.duke.starfish.profile.utils.Constants.MR_RED_TASKS;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+
+import junit.framework.TestCase;
+
+import org.apache.hadoop.conf.Configuration;
+import org.junit.Test;
+
+import edu.duke.starfish.profile.profileinfo.execution.profile.MRMapProfile;
+import edu.duke.starfish.profile.profileinfo.execution.profile.MRReduceProfile;
+import edu.duke.starfish.profile.profileinfo.execution.profile.enums.MRCostFactors;
+import edu.duke.starfish.profile.profileinfo.execution.profile.enums.MRCounter;
+import edu.duke.starfish.profile.profileinfo.execution.profile.enums.MRTaskPhase;
+import edu.duke.starfish.profile.profiler.loaders.tasks.MRMapProfileLoader;
+import edu.duke.starfish.profile.profiler.loaders.tasks.MRReduceProfileLoader;
+
+/**
+ * JUnit test for loading the BTrace task profiles, with and without record
+ * sampling, and with grouped shuffle records
+ * 
+ * @author hero
+ */
+public class TestMRTaskProfileLoader extends TestCase {
+
+	private static final String TASK_ID = "task_201011062135_0003_m_000000";
+	private static final String RED_TASK_ID = "task_201011062135_0003_r_000000";
+
+	@Test
+	public void testLoadMapProfile() throws IOException {
+		MRMapProfile prof = loadMapProfile(createMapProfile(1, ""));
+
+		assertEquals(2d, prof.getTiming(MRTaskPhase.READ, 0d));
+		assertEquals(6d, prof.getTiming(MRTaskPhase.MAP, 0d));
+		assertEquals(5d, prof.getTiming(MRTaskPhase.WRITE, 0d));
+		assertEquals(300l, prof.getCounter(MRCounter.MAP_INPUT_BYTES, 0l));
+	}
+
+	@Test
+	public void testLoadMapProfileWithCRLF() throws IOException {
+		// Windows line endings and a last line without a line terminator
+		String contents = getMapProfile(1, "").replace("\n", "\r\n");
+		MRMapProfile prof = loadMapProfile(writeProfile(contents.substring(0,
+				contents.length() - 2)));
+
+		assertEquals(2d, prof.getTiming(MRTaskPhase.READ, 0d));
+		assertEquals(6d, prof.getTiming(MRTaskPhase.MAP, 0d));
+		assertEquals(5d, prof.getTiming(MRTaskPhase.WRITE, 0d));
+		assertEquals(300l, prof.getCounter(MRCounter.MAP_INPUT_BYTES, 0l));
+	}
+
+	@Test
+	public void testLoadSampledMapProfile() throws IOException {
+		// 1 in 4 records were sampled
+		MRMapProfile prof = loadMapProfile(createMapProfile(4,
+				"SAMPLE\tRECORDS\t100\nSAMPLE\tSAMPLED_RECORDS\t25\n"));
+
+		assertEquals(2d, prof.getTiming(MRTaskPhase.READ, 0d));
+		assertEquals(6d, prof.getTiming(MRTaskPhase.MAP, 0d));
+		assertEquals(5d, prof.getTiming(MRTaskPhase.WRITE, 0d));
+		assertEquals(300l, prof.getCounter(MRCounter.MAP_INPUT_BYTES, 0l));
+	}
+
+	@Test
+	public void testLoadInvalidSampledMapProfile() throws IOException {
+		MRMapProfile prof = loadMapProfile(createMapProfile(4,
+				"SAMPLE\tSAMPLED_RECORDS\t25\n"));
+		assertTrue(prof.getTimings().isEmpty());
+	}
+
+	@Test
+	public void testLoadReduceProfile() throws IOException {
+		// The second shuffled segment is an empty map output
+		MRReduceProfile prof = loadReduceProfile(getReduceProfile(
+				"SHUFFLE\tUNCOMPRESS_BYTE_COUNT\t1000\n"
+						+ "SHUFFLE\tCOMPRESS_BYTE_COUNT\t500\n"
+						+ "SHUFFLE\tCOPY_MAP_DATA\t2000000\n"
+						+ "SHUFFLE\tUNCOMPRESS\t0\n"
+						+ "SHUFFLE\tUNCOMPRESS_BYTE_COUNT\t2\n"
+						+ "SHUFFLE\tCOMPRESS_BYTE_COUNT\t6\n"
+						+ "SHUFFLE\tCOPY_MAP_DATA\t100\n"
+						+ "SHUFFLE\tUNCOMPRESS\t0\n"));
+
+		assertEquals(500l, prof.getCounter(MRCounter.REDUCE_SHUFFLE_BYTES, 0l));
+		assertEquals(1000l, prof.getCounter(MRCounter.REDUCE_INPUT_BYTES, 0l));
+		assertEquals(4000d, prof.getCostFactor(MRCostFactors.NETWORK_COST,
+				0d));
+		assertEquals(2d, prof.getTiming(MRTaskPhase.SHUFFLE, 0d));
+
+		// Incomplete and out-of-order shuffle groups
+		prof = loadReduceProfile(getReduceProfile(
+				"SHUFFLE\tUNCOMPRESS_BYTE_COUNT\t1000\n"));
+		assertTrue(prof.getTimings().isEmpty());
+		prof = loadReduceProfile(getReduceProfile(
+				"SHUFFLE\tCOMPRESS_BYTE_COUNT\t500\n"
+						+ "SHUFFLE\tUNCOMPRESS_BYTE_COUNT\t1000\n"
+						+ "SHUFFLE\tCOPY_MAP_DATA\t2000000\n"
+						+ "SHUFFLE\tUNCOMPRESS\t0\n"));
+		assertTrue(prof.getTimings().isEmpty());
+	}
+
+	/**
+	 * Load the profile of a map-only task
+	 * 
+	 * @param profileFile
+	 *            the BTrace profile file
+	 * @return the map profile
+	 */
+	private MRMapProfile loadMapProfile(File profileFile) {
+		Configuration conf = new Configuration(false);
+		conf.setInt(MR_RED_TASKS, 0);
+
+		MRMapProfile prof = new MRMapProfile(TASK_ID);
+		prof.addCounter(MRCounter.MAP_INPUT_RECORDS, 100l);
+		prof.addCounter(MRCounter.MAP_OUTPUT_RECORDS, 100l);
+
+		MRMapProfileLoader loader = new MRMapProfileLoader(prof, conf,
+				profileFile.getAbsolutePath());
+		loader.loadExecutionProfile(prof);
+		profileFile.delete();
+
+		return prof;
+	}
+
+	/**
+	 * Load the profile of a reduce task
+	 * 
+	 * @param contents
+	 *            the BTrace profile contents
+	 * @return the reduce profile
+	 * @throws IOException
+	 */
+	private MRReduceProfile loadReduceProfile(String contents)
+			throws IOException {
+		File profileFile = writeProfile(contents);
+		MRReduceProfile prof = new MRReduceProfile(RED_TASK_ID);
+		prof.addCounter(MRCounter.REDUCE_INPUT_RECORDS, 100l);
+
+		MRReduceProfileLoader loader = new MRReduceProfileLoader(prof,
+				new Configuration(false), profileFile.getAbsolutePath());
+		loader.loadExecutionProfile(prof);
+		profileFile.delete();
+
+		return prof;
+	}
+
+	/**
+	 * Get the BTrace profile of a reduce task with the provided SHUFFLE lines
+	 * 
+	 * @param shuffleLines
+	 *            the SHUFFLE lines
+	 * @return the profile contents
+	 */
+	private String getReduceProfile(String shuffleLines) {
+		StringBuilder sb = new StringBuilder();
+		sb.append(shuffleLines);
+		sb.append("SORT\tMERGE_MAP_DATA\t1000\n");
+		sb.append("SORT\tREAD_WRITE\t0\n");
+		sb.append("SORT\tREAD_WRITE_COUNT\t0\n");
+		sb.append("SORT\tUNCOMPRESS\t0\n");
+		sb.append("SORT\tCOMPRESS\t0\n");
+		String[] processes = { "STARTUP_MEM", "SETUP", "SETUP_MEM",
+				"CLEANUP", "CLEANUP_MEM", "TOTAL_RUN", "READ", "UNCOMPRESS",
+				"REDUCE", "WRITE", "COMPRESS", "KEY_BYTE_COUNT",
+				"VALUE_BYTE_COUNT", "REDUCE_MEM", "WRITE", "COMPRESS" };
+		for (String process : processes)
+			sb.append("REDUCE\t").append(process).append("\t1000\n");
+		return sb.toString();
+	}
+
+	/**
+	 * Create the BTrace profile file of a map-only task
+	 * 
+	 * @param interval
+	 *            the record sampling interval
+	 * @param sampleLines
+	 *            the SAMPLE lines to append
+	 * @return the profile file
+	 * @throws IOException
+	 */
+	private File createMapProfile(int interval, String sampleLines)
+			throws IOException {
+		return writeProfile(getMapProfile(interval, sampleLines));
+	}
+
+	/**
+	 * Get the BTrace profile of a map-only task that read 100 records in 2ms,
+	 * mapped them in 6ms, and wrote them in 1ms plus 4ms to close the output.
+	 * The per-record values are divided by the sampling interval.
+	 * 
+	 * @param interval
+	 *            the record sampling interval
+	 * @param sampleLines
+	 *            the SAMPLE lines to append
+	 * @return the profile contents
+	 */
+	private String getMapProfile(int interval, String sampleLines) {
+		StringBuilder sb = new StringBuilder();
+		sb.append("MAP\t/input/file\t0\n");
+		sb.append("MAP\tSTARTUP_MEM\t1000\n");
+		sb.append("MAP\tSETUP\t1000\n");
+		sb.append("MAP\tSETUP_MEM\t1000\n");
+		sb.append("MAP\tCLEANUP\t1000\n");
+		sb.append("MAP\tCLEANUP_MEM\t1000\n");
+		sb.append("MAP\tTOTAL_RUN\t10000000\n");
+		sb.append("MAP\tREAD\t").append(2000000 / interval).append('\n');
+		sb.append("MAP\tUNCOMPRESS\t0\n");
+		sb.append("MAP\tKEY_BYTE_COUNT\t").append(100 / interval).append('\n');
+		sb.append("MAP\tVALUE_BYTE_COUNT\t").append(200 / interval).append(
+				'\n');
+		sb.append("MAP\tMAP\t").append(7000000 / interval).append('\n');
+		sb.append("MAP\tWRITE\t").append(1000000 / interval).append('\n');
+		sb.append("MAP\tCOMPRESS\t0\n");
+		sb.append("MAP\tPARTITION_OUTPUT\t0\n");
+		sb.append("MAP\tSERIALIZE_OUTPUT\t0\n");
+		sb.append("MAP\tMAP_MEM\t1000\n");
+		sb.append("MAP\tWRITE\t4000000\n");
+		sb.append("MAP\tCOMPRESS\t0\n");
+		sb.append("MAP\tKEY_BYTE_COUNT\t").append(100 / interval).append('\n');
+		sb.append("MAP\tVALUE_BYTE_COUNT\t").append(200 / interval).append(
+				'\n');
+		sb.append(sampleLines);
+		return sb.toString();
+	}
+
+	/**
+	 * Write the profile contents into a temporary profile file
+	 * 
+	 * @param contents
+	 *            the profile contents
+	 * @return the profile file
+	 * @throws IOException
+	 */
+	private File writeProfile(String contents) throws IOException {
+		File file = File.createTempFile("profile_" + TASK_ID, ".txt");
+		FileWriter writer = new FileWriter(file);
+		try {
+			writer.write(contents);
+		} finally {
+			writer.close();
+		}
+		return file;
+	}
+
+}
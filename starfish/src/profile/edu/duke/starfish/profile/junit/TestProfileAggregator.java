@@ -0,0 +1,356 @@
+package edu.duke.starfish.profile.junit;
+
+import static edu.duke.starfish.profile.utils.Constants.MR_INPUT_DIR;
+import static edu.duke.starfish.profile.utils.Constants.MR_RED_TASKS;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import junit.framework.TestCase;
+
+import org.apache.hadoop.conf.Configuration;
+import org.junit.Test;
+
+import edu.duke.starfish.profile.profileinfo.execution.DataLocality;
+import edu.duke.starfish.profile.profileinfo.execution.MRExecutionStatus;
+import edu.duke.starfish.profile.profileinfo.execution.jobs.MRJobInfo;
+import edu.duke.starfish.profile.profileinfo.execution.mrtaskattempts.MRMapAttemptInfo;
+import edu.duke.starfish.profile.profileinfo.execution.mrtasks.MRMapInfo;
+import edu.duke.starfish.profile.profileinfo.execution.profile.MRJobProfile;
+import edu.duke.starfish.profile.profileinfo.execution.profile.MRMapProfile;
+import edu.duke.starfish.profile.profileinfo.execution.profile.enums.MRCounter;
+import edu.duke.starfish.profile.profileinfo.execution.profile.enums.MRTaskPhase;
+import edu.duke.starfish.profile.profileinfo.setup.SlaveHostInfo;
+import edu.duke.starfish.profile.profiler.ProfileAggregationDaemon;
+import edu.duke.starfish.profile.profiler.ProfileAggregator;
+import edu.duke.starfish.profile.profiler.ProfileAggregatorClient;
+import edu.duke.starfish.profile.profiler.Profiler;
+import edu.duke.starfish.profile.profiler.loaders.MRTaskProfilesLoader;
+
+/**
+ * JUnit test for aggregating the task profiles of running jobs, directly and
+ * through the aggregation daemon
+ * 
+ * @author hero
+ */
+public class TestProfileAggregator extends TestCase {
+
+	private static final String JOB_ID = "job_201011062135_0003";
+	private static final String ATTEMPT_0 = "attempt_201011062135_0003_m_000000_0";
+	private static final String ATTEMPT_1 = "attempt_201011062135_0003_m_000001_0";
+	private static final String OTHER_JOB_ID = "job_201011062135_0004";
+	private static final String OTHER_ATTEMPT = "attempt_201011062135_0004_m_000000_0";
+
+	// The counters reported by the map attempts, for one unit of input
+	private static final MRCounter[] COUNTERS = { MRCounter.MAP_INPUT_RECORDS,
+			MRCounter.MAP_OUTPUT_RECORDS, MRCounter.HDFS_BYTES_READ,
+			MRCounter.HDFS_BYTES_WRITTEN };
+	private static final long[] COUNTER_VALUES = { 100l, 100l, 350l, 300l };
+
+	@Test
+	public void testAggregateRecords() {
+		ProfileAggregator aggregator = new ProfileAggregator(createConf());
+
+		// The records of the attempts arrive interleaved
+		String[] lines = getMapProfile().split("\n");
+		for (String line : lines) {
+			aggregator.addRecord(ATTEMPT_0, line);
+			aggregator.addRecord(ATTEMPT_1, line);
+		}
+		assertEquals(2, aggregator.getNumOpenAttempts());
+		assertNull(aggregator.getJobProfile(JOB_ID));
+
+		// The job profile reflects the completed attempts only
+		assertTrue(aggregator.completeAttempt(ATTEMPT_0));
+		MRJobProfile prof = aggregator.getJobProfile(JOB_ID);
+		assertEquals(1l, prof.getCounter(MRCounter.MAP_TASKS, 0l));
+		assertEquals(2d, getMapTiming(prof, MRTaskPhase.READ));
+		assertEquals(6d, getMapTiming(prof, MRTaskPhase.MAP));
+
+		assertTrue(aggregator.completeAttempt(ATTEMPT_1));
+		prof = aggregator.getJobProfile(JOB_ID);
+		assertEquals(2l, prof.getCounter(MRCounter.MAP_TASKS, 0l));
+		assertEquals(0, aggregator.getNumOpenAttempts());
+		assertEquals(1, aggregator.getJobIds().size());
+
+		// Unknown attempts and invalid attempt ids fail
+		assertFalse(aggregator.completeAttempt(ATTEMPT_0));
+		aggregator.addRecord("not_an_attempt", "MAP\tREAD\t1000");
+		assertFalse(aggregator.completeAttempt("not_an_attempt"));
+
+		aggregator.removeJob(JOB_ID);
+		assertTrue(aggregator.getJobIds().isEmpty());
+	}
+
+	@Test
+	public void testDaemon() throws IOException {
+		File spoolDir = File.createTempFile("spool", "");
+		spoolDir.delete();
+
+		ProfileAggregationDaemon daemon = new ProfileAggregationDaemon(
+				new ProfileAggregator(new Configuration(false)), 0, spoolDir,
+				3600000l);
+		daemon.start();
+		try {
+			// Register the job and send one attempt over the socket
+			ProfileAggregatorClient client = new ProfileAggregatorClient(
+					"127.0.0.1", daemon.getPort());
+			Configuration conf = createConf();
+			conf.set(Profiler.PROFILER_CLUSTER_NAME, "cluster1");
+			client.sendJobConf(JOB_ID, conf);
+			client.sendProfile(ATTEMPT_0, new StringReader(getMapProfile()));
+
+			List<String> jobIds = client.getJobIds();
+			assertEquals(1, jobIds.size());
+			assertEquals(JOB_ID, jobIds.get(0));
+
+			// Drop the other attempt in the spool directory
+			File profile = new File(spoolDir, ATTEMPT_1 + ".profile");
+			FileWriter writer = new FileWriter(profile);
+			try {
+				writer.write(getMapProfile());
+			} finally {
+				writer.close();
+			}
+			assertEquals(1, daemon.processSpoolDir());
+			assertFalse(profile.exists());
+
+			// Get the profile as the what-if engine would
+			MRJobProfile prof = ProfileAggregatorClient
+					.importJobProfile("aggregator://127.0.0.1:"
+							+ daemon.getPort() + "/" + JOB_ID);
+			assertEquals(JOB_ID, prof.getJobId());
+			assertEquals("cluster1", prof.getClusterName());
+			assertEquals(2l, prof.getCounter(MRCounter.MAP_TASKS, 0l));
+			assertEquals(2d, getMapTiming(prof, MRTaskPhase.READ));
+
+			// Register another job through the spool directory
+			Configuration otherConf = createConf();
+			otherConf.set(Profiler.PROFILER_CLUSTER_NAME, "cluster2");
+			otherConf.set(ProfileAggregationDaemon.AGGREGATOR_SPOOL_DIR,
+					spoolDir.getAbsolutePath());
+			assertTrue(ProfileAggregatorClient.registerJob(otherConf,
+					OTHER_JOB_ID));
+			assertEquals(0, daemon.processSpoolDir());
+			assertEquals(0, spoolDir.list().length);
+
+			client.sendProfile(OTHER_ATTEMPT, new StringReader(
+					getMapProfile()));
+			assertEquals("cluster2", client.getJobProfile(OTHER_JOB_ID)
+					.getClusterName());
+
+			// Remove the first job
+			client.removeJob(JOB_ID);
+			jobIds = client.getJobIds();
+			assertEquals(1, jobIds.size());
+			assertEquals(OTHER_JOB_ID, jobIds.get(0));
+
+			try {
+				client.getJobProfile(JOB_ID);
+				fail("Expected an error for an unknown job");
+			} catch (IOException e) {
+				assertTrue(e.getMessage().startsWith("ERROR"));
+			}
+		} finally {
+			daemon.stop();
+			spoolDir.delete();
+		}
+	}
+
+	@Test
+	public void testEvictStale() throws IOException {
+		Configuration conf = createConf();
+		conf.setLong(ProfileAggregator.AGGREGATOR_ATTEMPT_TIMEOUT, 10000l);
+		conf.setLong(ProfileAggregator.AGGREGATOR_JOB_RETENTION, 1000l);
+		ProfileAggregator aggregator = new ProfileAggregator(conf);
+
+		// One completed attempt and one that never completes
+		aggregator.registerJob(JOB_ID, createConf());
+		assertTrue(aggregator.addAttemptProfile(ATTEMPT_0, new StringReader(
+				getMapProfile())));
+		aggregator.addRecord(ATTEMPT_1, "MAP\tREAD\t1000");
+		long now = System.currentTimeMillis();
+
+		// The job has an open attempt
+		assertEquals(0, aggregator.evictStale(now));
+		assertEquals(0, aggregator.evictStale(now + 5000l));
+		assertEquals(1, aggregator.getNumOpenAttempts());
+
+		// The open attempt times out and the idle job goes with it
+		assertEquals(2, aggregator.evictStale(now + 20000l));
+		assertEquals(0, aggregator.getNumOpenAttempts());
+		assertNull(aggregator.getJobProfile(JOB_ID));
+	}
+
+	@Test
+	public void testCompareWithTaskProfilesLoader() throws IOException {
+		File profilesDir = File.createTempFile("profiles", "");
+		profilesDir.delete();
+		profilesDir.mkdir();
+
+		try {
+			// The finished job: the profile files have no counters, which
+			// come from the job history instead
+			MRJobInfo job = new MRJobInfo(0, JOB_ID, new Date(0l), new Date(
+					10000l), MRExecutionStatus.SUCCESS, null, "job", "user");
+			for (int i = 0; i < 3; ++i) {
+				MRMapAttemptInfo attempt = addMap(job, i);
+				for (int c = 0; c < COUNTERS.length; ++c)
+					attempt.getProfile().addCounter(COUNTERS[c],
+							COUNTER_VALUES[c] * (i + 1));
+
+				FileWriter writer = new FileWriter(new File(profilesDir,
+						attempt.getExecId() + ".profile"));
+				try {
+					writer.write(getMapRecords(i + 1));
+				} finally {
+					writer.close();
+				}
+			}
+			MRJobProfile expected = new MRTaskProfilesLoader(job,
+					createConf(), profilesDir.getAbsolutePath()).getProfile();
+
+			// The running job: the counters are reported by the attempts and
+			// the configuration is registered, unlike the default one
+			ProfileAggregator aggregator = new ProfileAggregator(
+					new Configuration(false));
+			aggregator.registerJob(JOB_ID, createConf());
+			for (int i = 0; i < 3; ++i) {
+				assertTrue(aggregator.addAttemptProfile(getAttemptId(i),
+						new StringReader(getMapRecords(i + 1)
+								+ getCounterRecords(i + 1))));
+			}
+			MRJobProfile actual = aggregator.getJobProfile(JOB_ID);
+
+			assertEquals(3l, expected.getCounter(MRCounter.MAP_TASKS, 0l));
+			assertEquals(expected.getCounters(), actual.getCounters());
+			assertEquals(expected.getStatistics(), actual.getStatistics());
+			assertEquals(expected.getCostFactors(), actual.getCostFactors());
+			assertEquals(expected, actual);
+		} finally {
+			for (File file : profilesDir.listFiles())
+				file.delete();
+			profilesDir.delete();
+		}
+	}
+
+	/**
+	 * @return the configuration of a map-only job
+	 */
+	private Configuration createConf() {
+		Configuration conf = new Configuration(false);
+		conf.setInt(MR_RED_TASKS, 0);
+		conf.set(MR_INPUT_DIR, "/input");
+		return conf;
+	}
+
+	/**
+	 * @param i
+	 *            the map task number
+	 * @return the id of the first attempt of the map task
+	 */
+	private String getAttemptId(int i) {
+		return "attempt_201011062135_0003_m_00000" + i + "_0";
+	}
+
+	/**
+	 * Add a successful map task with one attempt to a job
+	 * 
+	 * @param job
+	 *            the job
+	 * @param i
+	 *            the map task number
+	 * @return the map attempt
+	 */
+	private MRMapAttemptInfo addMap(MRJobInfo job, int i) {
+		MRMapInfo map = new MRMapInfo(i, "task_201011062135_0003_m_00000" + i,
+				new Date(0l), new Date(10000l), MRExecutionStatus.SUCCESS,
+				null, new ArrayList<SlaveHostInfo>(0));
+		MRMapAttemptInfo attempt = new MRMapAttemptInfo(i, getAttemptId(i),
+				new Date(0l), new Date(10000l), MRExecutionStatus.SUCCESS,
+				null, null, DataLocality.DATA_LOCAL);
+		map.addAttempt(attempt);
+		job.addMapTaskInfo(map);
+		return attempt;
+	}
+
+	/**
+	 * @param prof
+	 *            the job profile
+	 * @param phase
+	 *            the map phase
+	 * @return the timing of the phase in the average map profile
+	 */
+	private double getMapTiming(MRJobProfile prof, MRTaskPhase phase) {
+		MRMapProfile mapProf = prof.getAvgMapProfiles().get(0);
+		return mapProf.getTiming(phase, 0d);
+	}
+
+	/**
+	 * Get the BTrace profile of a map-only task that read 100 records in 2ms,
+	 * mapped them in 6ms, and wrote them in 1ms plus 4ms to close the output.
+	 * The profile reports its input and output records as counters.
+	 * 
+	 * @return the profile contents
+	 */
+	private String getMapProfile() {
+		return getMapRecords(1) + getCounterRecords(1);
+	}
+
+	/**
+	 * Get the BTrace records of a map-only task, with the durations and byte
+	 * counts of {@link #getMapProfile()} multiplied by a scale
+	 * 
+	 * @param scale
+	 *            the scale of the task
+	 * @return the profile records
+	 */
+	private String getMapRecords(int scale) {
+		StringBuilder sb = new StringBuilder();
+		sb.append("MAP\t/input/file\t0\n");
+		sb.append("MAP\tSTARTUP_MEM\t1000\n");
+		sb.append("MAP\tSETUP\t1000\n");
+		sb.append("MAP\tSETUP_MEM\t1000\n");
+		sb.append("MAP\tCLEANUP\t1000\n");
+		sb.append("MAP\tCLEANUP_MEM\t1000\n");
+		sb.append("MAP\tTOTAL_RUN\t" + 10000000 * scale + "\n");
+		sb.append("MAP\tREAD\t" + 2000000 * scale + "\n");
+		sb.append("MAP\tUNCOMPRESS\t0\n");
+		sb.append("MAP\tKEY_BYTE_COUNT\t" + 100 * scale + "\n");
+		sb.append("MAP\tVALUE_BYTE_COUNT\t" + 200 * scale + "\n");
+		sb.append("MAP\tMAP\t" + 7000000 * scale + "\n");
+		sb.append("MAP\tWRITE\t" + 1000000 * scale + "\n");
+		sb.append("MAP\tCOMPRESS\t0\n");
+		sb.append("MAP\tPARTITION_OUTPUT\t0\n");
+		sb.append("MAP\tSERIALIZE_OUTPUT\t0\n");
+		sb.append("MAP\tMAP_MEM\t1000\n");
+		sb.append("MAP\tWRITE\t" + 4000000 * scale + "\n");
+		sb.append("MAP\tCOMPRESS\t0\n");
+		sb.append("MAP\tKEY_BYTE_COUNT\t" + 100 * scale + "\n");
+		sb.append("MAP\tVALUE_BYTE_COUNT\t" + 200 * scale + "\n");
+		return sb.toString();
+	}
+
+	/**
+	 * Get the COUNTER records that the BTraceTaskProfile script prints for
+	 * a map-only task of the given scale
+	 * 
+	 * @param scale
+	 *            the scale of the task
+	 * @return the counter records
+	 */
+	private String getCounterRecords(int scale) {
+		StringBuilder sb = new StringBuilder();
+		for (int c = 0; c < COUNTERS.length; ++c) {
+			sb.append("COUNTER\t").append(COUNTERS[c].name()).append('\t')
+					.append(COUNTER_VALUES[c] * scale).append('\n');
+		}
+		return sb.toString();
+	}
+
+}
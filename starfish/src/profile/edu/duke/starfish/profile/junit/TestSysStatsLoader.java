@@ -0,0 +1,177 @@
+package edu.duke.starfish.profile.junit;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.util.Date;
+import java.util.List;
+
+import junit.framework.TestCase;
+
+import org.junit.Test;
+
+import edu.duke.starfish.profile.profileinfo.metrics.Metric;
+import edu.duke.starfish.profile.profileinfo.metrics.MetricType;
+import edu.duke.starfish.profile.profiler.loaders.SysStatsLoader;
+
+/**
+ * JUnit test for exporting and querying the monitoring statistics of a node
+ * 
+ * @author hero
+ */
+public class TestSysStatsLoader extends TestCase {
+
+	private static final String NODE = "node1";
+	private static final long TIME = 1300000000l;
+
+	@Test
+	public void testExportStats() throws IOException {
+		File monitorDir = createMonitorDir();
+		try {
+			SysStatsLoader loader = new SysStatsLoader(monitorDir
+					.getAbsolutePath());
+
+			assertEquals("time\t%user\t%system\t%iowait\t%idle\n" + TIME
+					+ "\t12.30\t1.00\t0.50\t86.20\n" + (TIME + 5)
+					+ "\t50.00\t5.25\t4.75\t40.00\n", exportCPU(loader, null,
+					null));
+			assertEquals("time\t%user\t%system\t%iowait\t%idle\n" + (TIME + 5)
+					+ "\t50.00\t5.25\t4.75\t40.00\n", exportCPU(loader,
+					new Date((TIME + 1) * 1000l),
+					new Date((TIME + 5) * 1000l)));
+
+			ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+			assertTrue(loader.exportIOStats(new PrintStream(bytes), NODE));
+			assertEquals("time\tMBRead/s\tMBWrite/s\n\t0.10\t0.20\n" + TIME
+					+ "\t1.50\t2.00\n" + (TIME + 5) + "\t3.25\t4.00\n", bytes
+					.toString());
+
+			bytes = new ByteArrayOutputStream();
+			assertTrue(loader.exportMemoryStats(new PrintStream(bytes), NODE,
+					new Date(TIME * 1000l), new Date(TIME * 1000l)));
+			assertEquals("time\tswpd\tfree\tbuff\tcache\n" + TIME
+					+ "\t0\t2048\t100\t500\n", bytes.toString());
+
+			assertFalse(loader.exportCPUStats(new PrintStream(bytes), "node2"));
+		} finally {
+			for (File file : monitorDir.listFiles())
+				file.delete();
+			monitorDir.delete();
+		}
+	}
+
+	@Test
+	public void testGetHostMetrics() throws IOException {
+		File monitorDir = createMonitorDir();
+		try {
+			SysStatsLoader loader = new SysStatsLoader(monitorDir
+					.getAbsolutePath());
+
+			List<Metric> cpu = loader.getHostMetrics(MetricType.CPU, NODE,
+					null, null);
+			assertEquals(2, cpu.size());
+			assertEquals(new Date(TIME * 1000l), cpu.get(0).getTime());
+			assertEquals(13.8d, cpu.get(0).getValue(), 0.0001d);
+			assertEquals(60d, cpu.get(1).getValue(), 0.0001d);
+
+			// The untimed records are not included in the metrics
+			List<Metric> writes = loader.getHostMetrics(
+					MetricType.DISK_WRITES, NODE, new Date(TIME * 1000l),
+					new Date(TIME * 1000l + 4999l));
+			assertEquals(1, writes.size());
+			assertEquals(2d, writes.get(0).getValue());
+
+			List<Metric> memory = loader.getHostMetrics(MetricType.MEMORY,
+					NODE, new Date((TIME + 1) * 1000l), null);
+			assertEquals(1, memory.size());
+			assertEquals(new Date((TIME + 5) * 1000l), memory.get(0)
+					.getTime());
+			assertEquals(1d, memory.get(0).getValue());
+
+			assertNull(loader.getHostMetrics(MetricType.NET_IN, NODE, null,
+					null));
+			assertNull(loader.getHostMetrics(MetricType.CPU, "node2", null,
+					null));
+		} finally {
+			for (File file : monitorDir.listFiles())
+				file.delete();
+			monitorDir.delete();
+		}
+	}
+
+	/**
+	 * @param loader
+	 *            the statistics loader
+	 * @param start
+	 *            the start date (null for all the records)
+	 * @param end
+	 *            the end date
+	 * @return the exported CPU statistics of the node
+	 */
+	private String exportCPU(SysStatsLoader loader, Date start, Date end) {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		if (start == null)
+			assertTrue(loader.exportCPUStats(new PrintStream(bytes), NODE));
+		else
+			assertTrue(loader.exportCPUStats(new PrintStream(bytes), NODE,
+					start, end));
+		return bytes.toString();
+	}
+
+	/**
+	 * Create a monitor directory with the iostat and vmstat files of a node,
+	 * in the format produced by the monitoring scripts. The records are
+	 * prefixed with the epoch time in seconds and are out of order.
+	 * 
+	 * @return the monitor directory
+	 * @throws IOException
+	 */
+	private File createMonitorDir() throws IOException {
+		File dir = File.createTempFile("monitor", "");
+		dir.delete();
+		dir.mkdir();
+
+		FileWriter writer = new FileWriter(new File(dir, "iostat_output-"
+				+ NODE));
+		try {
+			writer.write((TIME + 5) + " avg-cpu:  %user   %nice %system "
+					+ "%iowait  %steal   %idle\n");
+			writer.write((TIME + 5) + "          50.00    0.00    5.25    "
+					+ "4.75    0.00   40.00\n");
+			writer.write((TIME + 5) + " Device:  tps  MB_read/s  MB_wrtn/s  "
+					+ "MB_read  MB_wrtn\n");
+			writer.write((TIME + 5) + " sda  10.00  3.25  4.00  100  200\n");
+			writer.write(TIME + " avg-cpu:  %user   %nice %system "
+					+ "%iowait  %steal   %idle\n");
+			writer.write(TIME + "          12.3    0.00    1.00    "
+					+ "0.50    0.00   86.20\n");
+			writer.write(TIME + " Device:  tps  MB_read/s  MB_wrtn/s  "
+					+ "MB_read  MB_wrtn\n");
+			writer.write(TIME + " sda  10.00  1.5  2  100  200\n");
+			writer.write("Device:  tps  MB_read/s  MB_wrtn/s  "
+					+ "MB_read  MB_wrtn\n");
+			writer.write("sda  1.00  0.10  0.20  1  2\n");
+		} finally {
+			writer.close();
+		}
+
+		writer = new FileWriter(new File(dir, "vmstat_output-" + NODE));
+		try {
+			writer.write(TIME + " procs -----------memory---------- ---swap-- "
+					+ "-----io---- -system-- ----cpu----\n");
+			writer.write(TIME + "  r  b   swpd   free   buff  cache   si   so"
+					+ "    bi    bo   in   cs us sy id wa\n");
+			writer.write(TIME + "  1  0      0   2048    100    500    0    0"
+					+ "     1     2   10   20 12  1 86  1\n");
+			writer.write((TIME + 5) + "  1  0      0   1024    100    500    0"
+					+ "    0     1     2   10   20 50  5 40  5\n");
+		} finally {
+			writer.close();
+		}
+
+		return dir;
+	}
+
+}
@@ -0,0 +1,199 @@
+package edu.duke.starfish.profile.junit;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import junit.framework.TestCase;
+
+import org.junit.Test;
+
+import edu.duke.starfish.profile.junit.TaskLogServer.LogCollector;
+import edu.duke.starfish.profile.profileinfo.execution.MRExecutionStatus;
+import edu.duke.starfish.profile.profileinfo.execution.jobs.MRJobInfo;
+import edu.duke.starfish.profile.profileinfo.execution.mrtaskattempts.MRMapAttemptInfo;
+import edu.duke.starfish.profile.profileinfo.execution.mrtaskattempts.MRReduceAttemptInfo;
+import edu.duke.starfish.profile.profileinfo.execution.mrtaskattempts.MRTaskAttemptInfo;
+import edu.duke.starfish.profile.profileinfo.execution.mrtasks.MRReduceInfo;
+import edu.duke.starfish.profile.profileinfo.setup.TaskTrackerInfo;
+import edu.duke.starfish.profile.profiler.Profiler;
+import edu.duke.starfish.profile.profiler.TaskLogDownloader;
+
+/**
+ * Test the TaskLogDownloader against embedded HTTP servers that stand in for
+ * the task trackers
+ * 
+ * @author hero
+ */
+public class TestTaskLogDownloader extends TestCase {
+
+	private static final String JOB_ID = "201106010000_0001";
+
+	@Test
+	public void testDownload() throws IOException {
+		// An old (taskid) and a new (attemptid) task tracker
+		TaskLogServer oldServer = new TaskLogServer(false);
+		TaskLogServer newServer = new TaskLogServer(true);
+		try {
+			List<MRTaskAttemptInfo> attempts = new ArrayList<MRTaskAttemptInfo>();
+			for (int i = 0; i < 40; ++i) {
+				TaskLogServer server = (i % 2 == 0) ? oldServer : newServer;
+				attempts.add(createMapAttempt(i, server.getTracker()));
+			}
+
+			TaskLogDownloader downloader = new TaskLogDownloader(8, 2, 0);
+			LogCollector handler = new LogCollector();
+			List<MRTaskAttemptInfo> failed = downloader.download(attempts,
+					"profile", handler);
+
+			assertTrue(failed.isEmpty());
+			assertEquals(40, handler.logs.size());
+			for (MRTaskAttemptInfo attempt : attempts) {
+				assertEquals("profile of " + attempt.getExecId() + "\n",
+						handler.logs.get(attempt.getExecId()));
+			}
+
+			// The connections per host are bounded
+			assertTrue(oldServer.maxActive.get() <= 2);
+			assertTrue(newServer.maxActive.get() <= 2);
+
+			// The URL format is discovered once for each tracker
+			assertEquals(0, oldServer.wrongFormat.get());
+			assertTrue(newServer.wrongFormat.get() <= 2);
+			assertEquals(20, oldServer.served.get());
+			assertEquals(20, newServer.served.get());
+
+			// The second download reuses the known formats
+			newServer.wrongFormat.set(0);
+			handler = new LogCollector();
+			downloader.download(attempts, "profile", handler);
+			assertEquals(40, handler.logs.size());
+			assertEquals(0, newServer.wrongFormat.get());
+
+			// A missing log is not a failure
+			attempts.add(createMapAttempt(99, newServer.getTracker()));
+			newServer.missing.add(attempts.get(40).getExecId());
+			handler = new LogCollector();
+			failed = downloader.download(attempts, "profile", handler);
+			assertTrue(failed.isEmpty());
+			assertEquals(40, handler.logs.size());
+
+		} finally {
+			oldServer.stop();
+			newServer.stop();
+		}
+	}
+
+	@Test
+	public void testResumeAfterFailures() throws IOException {
+		TaskLogServer server = new TaskLogServer(true);
+		try {
+			List<MRTaskAttemptInfo> attempts = new ArrayList<MRTaskAttemptInfo>();
+			for (int i = 0; i < 10; ++i)
+				attempts.add(createMapAttempt(i, server.getTracker()));
+
+			// One log fails once and another fails twice
+			server.failures.put(attempts.get(3).getExecId(), 1);
+			server.failures.put(attempts.get(7).getExecId(), 2);
+
+			TaskLogDownloader downloader = new TaskLogDownloader(4, 2, 1);
+			LogCollector handler = new LogCollector();
+			List<MRTaskAttemptInfo> failed = downloader.download(attempts,
+					"profile", handler);
+			assertEquals(1, failed.size());
+			assertEquals(attempts.get(7), failed.get(0));
+			assertEquals(9, handler.logs.size());
+
+			// Resume: only the failed log is downloaded again
+			int served = server.served.get();
+			failed = downloader.download(attempts, "profile", handler);
+			assertTrue(failed.isEmpty());
+			assertEquals(10, handler.logs.size());
+			assertEquals(served + 1, server.served.get());
+
+		} finally {
+			server.stop();
+		}
+	}
+
+	@Test
+	public void testGatherJobTransferFiles() throws IOException {
+		TaskLogServer server = new TaskLogServer(false);
+		File transfersDir = File.createTempFile("transfers", "");
+		transfersDir.delete();
+		transfersDir.mkdir();
+		try {
+			MRJobInfo mrJob = new MRJobInfo(0, "job_" + JOB_ID, new Date(),
+					new Date(), MRExecutionStatus.SUCCESS, null, "job", "user");
+			for (int i = 0; i < 5; ++i) {
+				MRReduceInfo reduce = new MRReduceInfo(i, "task_" + JOB_ID
+						+ "_r_00000" + i, new Date(), new Date(),
+						MRExecutionStatus.SUCCESS, null);
+				reduce.addAttempt(new MRReduceAttemptInfo(i, "attempt_"
+						+ JOB_ID + "_r_00000" + i + "_0", new Date(),
+						new Date(), MRExecutionStatus.SUCCESS, null, server
+								.getTracker(), new Date(), new Date()));
+				mrJob.addReduceTaskInfo(reduce);
+			}
+
+			// Fail one syslog, so the first gathering fails
+			String failedId = "attempt_" + JOB_ID + "_r_000002_0";
+			server.failures.put(failedId, 1);
+			try {
+				Profiler.gatherJobTransferFiles(mrJob, transfersDir,
+						new TaskLogDownloader(4, 2, 0));
+				fail("Expected a failed download");
+			} catch (IOException e) {
+				assertTrue(e.getMessage().contains(failedId));
+			}
+			assertEquals(4, transfersDir.listFiles().length);
+
+			// Resume the gathering
+			int served = server.served.get();
+			Profiler.gatherJobTransferFiles(mrJob, transfersDir,
+					new TaskLogDownloader(4, 2, 0));
+			assertEquals(served + 1, server.served.get());
+			assertEquals(5, transfersDir.listFiles().length);
+
+			// Only the transfer entries are kept
+			for (MRReduceAttemptInfo attempt : mrJob
+					.getReduceAttempts(MRExecutionStatus.SUCCESS)) {
+				File transfer = new File(transfersDir, "transfers_"
+						+ attempt.getExecId());
+				BufferedReader reader = new BufferedReader(new FileReader(
+						transfer));
+				try {
+					assertTrue(reader.readLine().contains("Shuffling"));
+					assertTrue(reader.readLine().contains("Read"));
+					assertNull(reader.readLine());
+				} finally {
+					reader.close();
+				}
+			}
+
+		} finally {
+			server.stop();
+			for (File file : transfersDir.listFiles())
+				file.delete();
+			transfersDir.delete();
+		}
+	}
+
+	/**
+	 * @param i
+	 *            the task index
+	 * @param tracker
+	 *            the task tracker
+	 * @return a successful map attempt on the tracker
+	 */
+	private MRMapAttemptInfo createMapAttempt(int i, TaskTrackerInfo tracker) {
+		return new MRMapAttemptInfo(i, String.format("attempt_%s_m_%06d_0",
+				JOB_ID, i), new Date(), new Date(), MRExecutionStatus.SUCCESS,
+				null, tracker, null);
+	}
+
+}
@@ -0,0 +1,178 @@
+package edu.duke.starfish.profile.junit;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+
+import junit.framework.TestCase;
+
+import org.junit.Test;
+
+import edu.duke.starfish.profile.profileinfo.execution.DataLocality;
+import edu.duke.starfish.profile.profileinfo.execution.MRExecutionStatus;
+import edu.duke.starfish.profile.profileinfo.execution.jobs.MRJobInfo;
+import edu.duke.starfish.profile.profileinfo.execution.mrtaskattempts.MRMapAttemptInfo;
+import edu.duke.starfish.profile.profileinfo.execution.mrtaskattempts.MRReduceAttemptInfo;
+import edu.duke.starfish.profile.profileinfo.execution.mrtasks.MRMapInfo;
+import edu.duke.starfish.profile.profileinfo.execution.mrtasks.MRReduceInfo;
+import edu.duke.starfish.profile.profileinfo.setup.SlaveHostInfo;
+import edu.duke.starfish.profile.utils.TimelineCalc;
+
+/**
+ * JUnit test for the timeline of the task executions of jobs
+ * 
+ * @author hero
+ */
+public class TestTimelineCalc extends TestCase {
+
+	private static final long BASE = 1300000000000l;
+
+	@Test
+	public void testPrintTimeline() {
+		MRJobInfo job = createJob();
+		TimelineCalc timeline = new TimelineCalc(job.getStartTime(), job
+				.getEndTime());
+		timeline.addJob(job);
+
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		timeline.printTimeline(new PrintStream(bytes));
+		assertEquals("Time\tMaps\tShuffle\tMerge\tReduce\tWaste"
+				+ "\tRackLocalMaps\tNonLocalMaps\n"
+				+ "0\t1\t0\t0\t0\t1\t0\t0\n" + "1\t2\t0\t0\t0\t1\t1\t0\n"
+				+ "2\t2\t0\t0\t0\t0\t1\t0\n" + "3\t1\t1\t0\t0\t0\t1\t0\n"
+				+ "4\t0\t1\t0\t0\t0\t0\t0\n" + "5\t0\t0\t1\t0\t0\t0\t0\n"
+				+ "6\t0\t0\t0\t1\t0\t0\t0\n" + "7\t0\t0\t0\t1\t0\t0\t0\n"
+				+ "8\t0\t0\t0\t0\t0\t0\t0\n", bytes.toString());
+	}
+
+	@Test
+	public void testQueries() {
+		MRJobInfo job = createJob();
+		TimelineCalc timeline = new TimelineCalc(job.getStartTime(), job
+				.getEndTime(), 1l);
+		timeline.addJob(job);
+		assertEquals(8200l, timeline.getNumBuckets());
+
+		// The short non-local map is visible at millisecond resolution
+		assertEquals(3, timeline.getCount(TimelineCalc.MAPS, at(2200)));
+		assertEquals(1, timeline.getCount(TimelineCalc.NON_LOCAL_MAPS,
+				at(2499)));
+		assertEquals(0, timeline.getCount(TimelineCalc.NON_LOCAL_MAPS,
+				at(2500)));
+		assertEquals(0, timeline.getCount(TimelineCalc.MAPS, at(-1)));
+
+		assertTrue(Arrays.equals(new int[] { 1, 2, 2 }, timeline.getCounts(
+				TimelineCalc.MAPS, at(1199), at(1201))));
+		assertTrue(Arrays.equals(new int[] { 3, 2 }, timeline.getCounts(
+				TimelineCalc.MAPS, at(2499), at(2500))));
+		assertEquals(0, timeline.getCounts(TimelineCalc.MAPS, at(9000),
+				at(9999)).length);
+
+		assertEquals(3, timeline.getMaxCount(TimelineCalc.MAPS, at(0),
+				at(8199)));
+		assertEquals(2, timeline.getMaxCount(TimelineCalc.MAPS, at(2500),
+				at(8199)));
+		assertEquals(1, timeline.getMaxCount(TimelineCalc.REDUCE, at(0),
+				at(8199)));
+	}
+
+	@Test
+	public void testAddJobs() {
+		MRJobInfo job = createJob();
+		TimelineCalc timeline = new TimelineCalc(job.getStartTime(), job
+				.getEndTime());
+		timeline.addJob(job);
+		assertEquals(0, timeline.getCount(TimelineCalc.MAPS, at(5000)));
+
+		// A second job running later within the timeline
+		MRJobInfo other = new MRJobInfo(1, "job_201011062135_0004", at(5000),
+				at(7000), MRExecutionStatus.SUCCESS, null, "job", "user");
+		addMap(other, 0, 5000, 7000, MRExecutionStatus.SUCCESS,
+				DataLocality.DATA_LOCAL);
+		timeline.addJob(other);
+
+		assertEquals(1, timeline.getCount(TimelineCalc.MAPS, at(5000)));
+		assertEquals(2, timeline.getCount(TimelineCalc.MAPS, at(1000)));
+
+		try {
+			timeline.addJob(new MRJobInfo(2, "job_201011062135_0005", at(0),
+					at(10000), MRExecutionStatus.SUCCESS, null, "job", "user"));
+			fail("Expected an error for a job ending after the timeline");
+		} catch (RuntimeException e) {
+			// Expected
+		}
+	}
+
+	/**
+	 * Create a job running from 0s to 8.2s with four map attempts and one
+	 * reduce attempt:
+	 * <ul>
+	 * <li>A data-local map from 0s to 3.5s</li>
+	 * <li>A rack-local map from 1.2s to 4s</li>
+	 * <li>A non-local map from 2s to 2.5s</li>
+	 * <li>A failed map from 0s to 2s</li>
+	 * <li>A reducer shuffling until 5s, merging until 6s, and reducing until
+	 * 8s</li>
+	 * </ul>
+	 * 
+	 * @return the job
+	 */
+	private MRJobInfo createJob() {
+		MRJobInfo job = new MRJobInfo(0, "job_201011062135_0003", at(0),
+				at(8200), MRExecutionStatus.SUCCESS, null, "job", "user");
+		addMap(job, 0, 0, 3500, MRExecutionStatus.SUCCESS,
+				DataLocality.DATA_LOCAL);
+		addMap(job, 1, 1200, 4000, MRExecutionStatus.SUCCESS,
+				DataLocality.RACK_LOCAL);
+		addMap(job, 2, 2000, 2500, MRExecutionStatus.SUCCESS,
+				DataLocality.NON_LOCAL);
+		addMap(job, 3, 0, 2000, MRExecutionStatus.FAILED,
+				DataLocality.DATA_LOCAL);
+
+		MRReduceInfo reduce = new MRReduceInfo(0, "task_r_0", at(3000),
+				at(8000), MRExecutionStatus.SUCCESS, null);
+		reduce.addAttempt(new MRReduceAttemptInfo(0, "attempt_r_0", at(3000),
+				at(8000), MRExecutionStatus.SUCCESS, null, null, at(5000),
+				at(6000)));
+		job.addReduceTaskInfo(reduce);
+
+		return job;
+	}
+
+	/**
+	 * Add a map task with one attempt to a job
+	 * 
+	 * @param job
+	 *            the job
+	 * @param i
+	 *            the task number
+	 * @param start
+	 *            the start offset in ms
+	 * @param end
+	 *            the end offset in ms
+	 * @param status
+	 *            the attempt status
+	 * @param locality
+	 *            the attempt data locality
+	 */
+	private void addMap(MRJobInfo job, int i, long start, long end,
+			MRExecutionStatus status, DataLocality locality) {
+		MRMapInfo map = new MRMapInfo(i, "task_m_" + i, at(start), at(end),
+				status, null, new ArrayList<SlaveHostInfo>(0));
+		map.addAttempt(new MRMapAttemptInfo(i, "attempt_m_" + i, at(start),
+				at(end), status, null, null, locality));
+		job.addMapTaskInfo(map);
+	}
+
+	/**
+	 * @param offset
+	 *            an offset in ms
+	 * @return the date at the offset from the base time
+	 */
+	private Date at(long offset) {
+		return new Date(BASE + offset);
+	}
+
+}
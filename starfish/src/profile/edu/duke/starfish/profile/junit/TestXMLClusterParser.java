@@ -8,6 +8,9 @@ import java.io.UnsupportedEncodingException;
 import org.junit.Test;
 
 import edu.duke.starfish.profile.profileinfo.ClusterConfiguration;
+import edu.duke.starfish.profile.profileinfo.setup.JobTrackerInfo;
+import edu.duke.starfish.profile.profileinfo.setup.MasterHostInfo;
+import edu.duke.starfish.profile.profileinfo.setup.RackInfo;
 import edu.duke.starfish.profile.utils.XMLClusterParser;
 
 import junit.framework.TestCase;
@@ -69,4 +72,44 @@ public class TestXMLClusterParser extends TestCase {
 		}
 
 	}
+
+	@Test
+	public void testExportClusterFormat() {
+		ClusterConfiguration cluster = new ClusterConfiguration();
+		cluster.setClusterName("local");
+
+		MasterHostInfo master = new MasterHostInfo();
+		master.setName("master");
+		master.setIpAddress("10.0.0.1");
+		JobTrackerInfo jobTracker = new JobTrackerInfo();
+		jobTracker.setName("job_tracker");
+		jobTracker.setPort(50001);
+		master.setJobTracker(jobTracker);
+
+		RackInfo rack = new RackInfo();
+		rack.setName("rack");
+		rack.setMasterHost(master);
+		cluster.addRackInfo(rack);
+
+		// The attributes are sorted by name, as in a serialized DOM
+		String expected = "<?xml version=\"1.0\" encoding=\"UTF-8\" "
+				+ "standalone=\"no\"?>\n<cluster name=\"local\">\n"
+				+ "<rack name=\"rack\">\n"
+				+ "<master_host ip=\"10.0.0.1\" name=\"master\">\n"
+				+ "<job_tracker name=\"job_tracker\" port=\"50001\"/>\n"
+				+ "</master_host>\n</rack>\n</cluster>\n";
+
+		ByteArrayOutputStream baos = new ByteArrayOutputStream();
+		XMLClusterParser.exportCluster(cluster, new PrintStream(baos));
+		try {
+			assertEquals(expected, baos.toString("UTF-8"));
+			assertEquals(cluster, XMLClusterParser
+					.importCluster(new ByteArrayInputStream(baos
+							.toByteArray())));
+		} catch (UnsupportedEncodingException e) {
+			e.printStackTrace();
+			fail();
+		}
+	}
+
 }
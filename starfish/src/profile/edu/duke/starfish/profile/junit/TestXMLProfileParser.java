@@ -10,7 +10,9 @@ import junit.framework.TestCase;
 import org.junit.Test;
 
 import edu.duke.starfish.profile.profileinfo.execution.profile.MRJobProfile;
+import edu.duke.starfish.profile.profileinfo.execution.profile.MRMapProfile;
 import edu.duke.starfish.profile.profileinfo.execution.profile.enums.MRCounter;
+import edu.duke.starfish.profile.profileinfo.execution.profile.enums.MRTaskPhase;
 import edu.duke.starfish.profile.utils.XMLProfileParser;
 
 /**
@@ -94,4 +96,80 @@ public class TestXMLProfileParser extends TestCase {
 
 	}
 
+	@Test
+	public void testExportProfileFormat() {
+		MRJobProfile profile = new MRJobProfile("job_1");
+		profile.setClusterName("a&b");
+		profile.setJobInputs(new String[] { "/in<1>" });
+		profile.addCounter(MRCounter.MAP_TASKS, 2l);
+
+		MRMapProfile mapProf = new MRMapProfile("map_1");
+		mapProf.setNumTasks(2);
+		mapProf.addCounter(MRCounter.MAP_INPUT_RECORDS, 5l);
+		mapProf.addTiming(MRTaskPhase.MAP, 1.5d);
+		profile.addMapProfile(mapProf);
+		profile.updateProfile();
+
+		// The attributes are sorted by name, as in a serialized DOM
+		String expected = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>"
+				+ "<job_profile cluster_name=\"a&amp;b\" id=\"job_1\" "
+				+ "num_mappers=\"2\" num_reducers=\"0\">\n"
+				+ "<inputs>\n<input>/in&lt;1&gt;</input>\n</inputs>\n"
+				+ "<map_profile id=\"average_map_0_job_1\" input_index=\"0\" "
+				+ "num_tasks=\"2\">\n<counters>\n"
+				+ "<counter key=\"MAP_INPUT_RECORDS\" value=\"5\"/>\n"
+				+ "<counter key=\"MAP_MAX_UNIQUE_GROUPS\" value=\"0\"/>\n"
+				+ "</counters>\n<statistics/>\n<cost_factors/>\n<timings>\n"
+				+ "<timing key=\"MAP\" value=\"1.5\"/>\n</timings>\n"
+				+ "</map_profile>\n</job_profile>\n";
+
+		ByteArrayOutputStream baos = new ByteArrayOutputStream();
+		XMLProfileParser.exportJobProfile(profile, new PrintStream(baos));
+		try {
+			assertEquals(expected, baos.toString("UTF-8"));
+		} catch (UnsupportedEncodingException e) {
+			e.printStackTrace();
+			fail();
+		}
+	}
+
+	@Test
+	public void testImportProfileWithComments() {
+		String xml = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+				+ "<!-- A hand-written profile -->\n"
+				+ "<job_profile id=\"job_1\" num_mappers=\"1\" "
+				+ "num_reducers=\"0\">\n"
+				+ "  <inputs>\n    <input>/in<!-- c -->put</input>\n"
+				+ "  </inputs>\n"
+				+ "  <map_profile id=\"map_1\" input_index=\"0\" "
+				+ "num_tasks=\"1\">\n" + "    <counters>\n"
+				+ "      <counter key=\"MAP_INPUT_RECORDS\" value=\"7\"/>\n"
+				+ "    </counters>\n" + "    <statistics/>\n"
+				+ "    <cost_factors/>\n" + "    <timings>\n"
+				+ "      <!-- <timing key=\"READ\" value=\"2.0\"/> -->\n"
+				+ "      <timing key=\"MAP\" value=\"1.5\"/>\n"
+				+ "    </timings>\n" + "  </map_profile>\n"
+				+ "</job_profile>\n";
+
+		try {
+			MRJobProfile profile = XMLProfileParser
+					.importJobProfile(new ByteArrayInputStream(xml
+							.getBytes("UTF-8")));
+
+			assertEquals("job_1", profile.getJobId());
+			assertNull(profile.getClusterName());
+			assertEquals(1, profile.getJobInputs().length);
+			assertEquals("/input", profile.getJobInputs()[0]);
+
+			MRMapProfile mapProf = profile.getMapProfiles().get(0);
+			assertEquals(7l, mapProf.getCounter(MRCounter.MAP_INPUT_RECORDS,
+					0l));
+			assertEquals(1, mapProf.getTimings().size());
+			assertEquals(1.5d, mapProf.getTiming(MRTaskPhase.MAP, 0d));
+		} catch (UnsupportedEncodingException e) {
+			e.printStackTrace();
+			fail();
+		}
+	}
+
 }
@@ -4,6 +4,8 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Date;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import edu.duke.starfish.profile.profileinfo.execution.MRExecutionStatus;
 import edu.duke.starfish.profile.profileinfo.execution.mrtaskattempts.MRMapAttemptInfo;
@@ -42,6 +44,12 @@ public class MRJobInfo extends JobInfo {
 	private List<MRMapAttemptInfo> sucMapAttempts;
 	private List<MRReduceAttemptInfo> sucReduceAttempts;
 
+	// Indexes of the tasks and attempts by id (built on demand)
+	private volatile Map<String, MRMapInfo> mapTaskIndex;
+	private volatile Map<String, MRReduceInfo> reduceTaskIndex;
+	private volatile Map<String, MRMapAttemptInfo> mapAttemptIndex;
+	private volatile Map<String, MRReduceAttemptInfo> reduceAttemptIndex;
+
 	// CONSTANTS
 	private static final String JOB = "job";
 	private static final String TASK = "task";
@@ -65,6 +73,7 @@ public class MRJobInfo extends JobInfo {
 
 		sucMapAttempts = null;
 		sucReduceAttempts = null;
+		clearIndexes();
 	}
 
 	/**
@@ -103,6 +112,7 @@ public class MRJobInfo extends JobInfo {
 
 		sucMapAttempts = null;
 		sucReduceAttempts = null;
+		clearIndexes();
 	}
 
 	/**
@@ -141,6 +151,7 @@ public class MRJobInfo extends JobInfo {
 
 		sucMapAttempts = null;
 		sucReduceAttempts = null;
+		clearIndexes();
 	}
 
 	/* ***************************************************************
@@ -334,18 +345,32 @@ public class MRJobInfo extends JobInfo {
 	 * @param mapInfo
 	 *            the map info to add
 	 */
-	public void addMapTaskInfo(MRMapInfo mapInfo) {
+	public synchronized void addMapTaskInfo(MRMapInfo mapInfo) {
 		hash = -1;
 		mapTasks.add(mapInfo);
+
+		// Keep the indexes in sync
+		if (mapTaskIndex != null) {
+			mapTaskIndex.put(mapInfo.getExecId(), mapInfo);
+			for (MRMapAttemptInfo attempt : mapInfo.getAttempts())
+				mapAttemptIndex.put(attempt.getExecId(), attempt);
+		}
 	}
 
 	/**
 	 * @param reduceInfo
 	 *            the reduce info to add
 	 */
-	public void addReduceTaskInfo(MRReduceInfo reduceInfo) {
+	public synchronized void addReduceTaskInfo(MRReduceInfo reduceInfo) {
 		hash = -1;
 		reduceTasks.add(reduceInfo);
+
+		// Keep the indexes in sync
+		if (reduceTaskIndex != null) {
+			reduceTaskIndex.put(reduceInfo.getExecId(), reduceInfo);
+			for (MRReduceAttemptInfo attempt : reduceInfo.getAttempts())
+				reduceAttemptIndex.put(attempt.getExecId(), attempt);
+		}
 	}
 
 	/**
@@ -366,7 +391,7 @@ public class MRJobInfo extends JobInfo {
 	 * @param other
 	 *            the other job to copy from
 	 */
-	public void copyOtherJob(MRJobInfo other) {
+	public synchronized void copyOtherJob(MRJobInfo other) {
 		this.setupTasks = other.setupTasks;
 		this.mapTasks = other.mapTasks;
 		this.reduceTasks = other.reduceTasks;
@@ -379,6 +404,7 @@ public class MRJobInfo extends JobInfo {
 
 		this.sucMapAttempts = other.sucMapAttempts;
 		this.sucReduceAttempts = other.sucReduceAttempts;
+		clearIndexes();
 
 		setName(other.getName());
 		setUser(other.getUser());
@@ -497,37 +523,84 @@ public class MRJobInfo extends JobInfo {
 	}
 
 	/**
-	 * Find and return the map attempt given its id
+	 * Find and return the map task given its id
+	 * 
+	 * @param taskId
+	 *            the task id of the map task to find
+	 * @return the map task (null if not found)
+	 */
+	public MRMapInfo findMRMapTask(String taskId) {
+		if (mapTaskIndex == null)
+			buildMapIndexes();
+		return (taskId == null) ? null : mapTaskIndex.get(taskId);
+	}
+
+	/**
+	 * Find and return the reduce task given its id
+	 * 
+	 * @param taskId
+	 *            the task id of the reduce task to find
+	 * @return the reduce task (null if not found)
+	 */
+	public MRReduceInfo findMRReduceTask(String taskId) {
+		if (reduceTaskIndex == null)
+			buildReduceIndexes();
+		return (taskId == null) ? null : reduceTaskIndex.get(taskId);
+	}
+
+	/**
+	 * Find and return the map attempt given its id. The lookup uses an index
+	 * that is built on the first call, so it takes constant time.
 	 * 
 	 * @param attemptId
 	 *            the attempt id of the map attempt to find
-	 * @return the map attempt
+	 * @return the map attempt (null if not found)
 	 */
 	public MRMapAttemptInfo findMRMapAttempt(String attemptId) {
-		String mapId = getTaskIdFromAttemptId(attemptId);
-		for (MRMapInfo map : mapTasks) {
-			if (map.getExecId().equals(mapId)) {
-				return map.findMRMapAttempt(attemptId);
+		if (mapAttemptIndex == null)
+			buildMapIndexes();
+		Map<String, MRMapAttemptInfo> index = mapAttemptIndex;
+		MRMapAttemptInfo attempt = index.get(attemptId);
+
+		if (attempt == null) {
+			// The attempt may have been added after the index was built
+			MRMapInfo map = findMRMapTask(getTaskIdFromAttemptId(attemptId));
+			if (map != null) {
+				attempt = map.findMRMapAttempt(attemptId);
+				if (attempt != null)
+					index.put(attemptId, attempt);
 			}
 		}
-		return null;
+
+		return attempt;
 	}
 
 	/**
-	 * Find and return the reduce attempt given its id
+	 * Find and return the reduce attempt given its id. The lookup uses an
+	 * index that is built on the first call, so it takes constant time.
 	 * 
 	 * @param attemptId
 	 *            the attempt id of the reduce attempt to find
-	 * @return the reduce attempt
+	 * @return the reduce attempt (null if not found)
 	 */
 	public MRReduceAttemptInfo findMRReduceAttempt(String attemptId) {
-		String reduceId = getTaskIdFromAttemptId(attemptId);
-		for (MRReduceInfo reduce : reduceTasks) {
-			if (reduce.getExecId().equals(reduceId)) {
-				return reduce.findMRReduceAttempt(attemptId);
+		if (reduceAttemptIndex == null)
+			buildReduceIndexes();
+		Map<String, MRReduceAttemptInfo> index = reduceAttemptIndex;
+		MRReduceAttemptInfo attempt = index.get(attemptId);
+
+		if (attempt == null) {
+			// The attempt may have been added after the index was built
+			String reduceId = getTaskIdFromAttemptId(attemptId);
+			MRReduceInfo reduce = findMRReduceTask(reduceId);
+			if (reduce != null) {
+				attempt = reduce.findMRReduceAttempt(attemptId);
+				if (attempt != null)
+					index.put(attemptId, attempt);
 			}
 		}
-		return null;
+
+		return attempt;
 	}
 
 	/**
@@ -539,6 +612,65 @@ public class MRJobInfo extends JobInfo {
 		return reduceTasks.isEmpty();
 	}
 
+	/* ***************************************************************
+	 * PRIVATE METHODS
+	 * ***************************************************************
+	 */
+
+	/**
+	 * Build the indexes of the map tasks and map attempts by id. The indexes
+	 * are published after they are complete, so that concurrent lookups
+	 * never see a partial index.
+	 */
+	private synchronized void buildMapIndexes() {
+		if (mapTaskIndex != null && mapAttemptIndex != null)
+			return;
+
+		Map<String, MRMapInfo> taskIndex = new ConcurrentHashMap<String, MRMapInfo>(
+				2 * mapTasks.size() + 1);
+		Map<String, MRMapAttemptInfo> attemptIndex = new ConcurrentHashMap<String, MRMapAttemptInfo>(
+				2 * mapTasks.size() + 1);
+		for (MRMapInfo map : mapTasks) {
+			taskIndex.put(map.getExecId(), map);
+			for (MRMapAttemptInfo attempt : map.getAttempts())
+				attemptIndex.put(attempt.getExecId(), attempt);
+		}
+
+		mapAttemptIndex = attemptIndex;
+		mapTaskIndex = taskIndex;
+	}
+
+	/**
+	 * Build the indexes of the reduce tasks and reduce attempts by id
+	 */
+	private synchronized void buildReduceIndexes() {
+		if (reduceTaskIndex != null && reduceAttemptIndex != null)
+			return;
+
+		Map<String, MRReduceInfo> taskIndex = new ConcurrentHashMap<String, MRReduceInfo>(
+				2 * reduceTasks.size() + 1);
+		Map<String, MRReduceAttemptInfo> attemptIndex = new ConcurrentHashMap<String, MRReduceAttemptInfo>(
+				2 * reduceTasks.size() + 1);
+		for (MRReduceInfo reduce : reduceTasks) {
+			taskIndex.put(reduce.getExecId(), reduce);
+			for (MRReduceAttemptInfo attempt : reduce.getAttempts())
+				attemptIndex.put(attempt.getExecId(), attempt);
+		}
+
+		reduceAttemptIndex = attemptIndex;
+		reduceTaskIndex = taskIndex;
+	}
+
+	/**
+	 * Clear the indexes, so that they are rebuilt on the next lookup
+	 */
+	private synchronized void clearIndexes() {
+		mapTaskIndex = null;
+		reduceTaskIndex = null;
+		mapAttemptIndex = null;
+		reduceAttemptIndex = null;
+	}
+
 	/* ***************************************************************
 	 * PUBLIC STATIC METHODS
 	 * ***************************************************************
@@ -0,0 +1,163 @@
+package edu.duke.starfish.profile.profileinfo.execution.profile;
+
+import java.util.Map;
+
+/**
+ * An enum map with primitive double values. The primitive methods getValue
+ * and putValue avoid boxing the values.
+ * 
+ * @param <K>
+ *            the enum type of the keys
+ * 
+ * @author hero
+ */
+public class DoubleEnumMap<K extends Enum<K>> extends
+		EnumValueMap<K, Double> {
+
+	/* ***************************************************************
+	 * DATA MEMBERS
+	 * ***************************************************************
+	 */
+
+	private double[] values; // The values indexed by ordinal
+
+	/**
+	 * Constructor
+	 * 
+	 * @param universe
+	 *            all the constants of the enum, in ordinal order. The array is
+	 *            shared and must not be modified.
+	 */
+	public DoubleEnumMap(K[] universe) {
+		super(universe);
+		this.values = new double[universe.length];
+	}
+
+	/**
+	 * Copy constructor. The arrays are shared if the other map is marked as
+	 * shared (see {@link #markShared()}), and copied otherwise.
+	 * 
+	 * @param other
+	 *            the map to copy from
+	 */
+	public DoubleEnumMap(DoubleEnumMap<K> other) {
+		super(other);
+		this.values = other.isShared() ? other.values : other.values.clone();
+	}
+
+	/* ***************************************************************
+	 * PUBLIC METHODS
+	 * ***************************************************************
+	 */
+
+	/**
+	 * Get a value without boxing
+	 * 
+	 * @param key
+	 *            the key
+	 * @param defaultValue
+	 *            the value to return if the key is not present
+	 * @return the value
+	 */
+	public double getValue(K key, double defaultValue) {
+		int ordinal = key.ordinal();
+		return isPresent(ordinal) ? values[ordinal] : defaultValue;
+	}
+
+	/**
+	 * Set a value without boxing
+	 * 
+	 * @param key
+	 *            the key
+	 * @param value
+	 *            the value
+	 */
+	public void putValue(K key, double value) {
+		int ordinal = key.ordinal();
+		prepareWrite();
+		values[ordinal] = value;
+		setPresent(ordinal);
+	}
+
+	/**
+	 * Put all the entries of the other map without boxing
+	 * 
+	 * @param other
+	 *            the map to copy the entries from
+	 */
+	public void putAllValues(DoubleEnumMap<K> other) {
+		prepareWrite();
+		for (int i = other.nextPresent(0); i >= 0; i = other
+				.nextPresent(i + 1))
+			values[i] = other.values[i];
+		orPresent(other);
+	}
+
+	/**
+	 * Add the weighted values of this map into the sums, and the weight into
+	 * the counts, for all the present keys. The arrays are indexed by ordinal.
+	 * 
+	 * @param sums
+	 *            the weighted sums of the values
+	 * @param counts
+	 *            the sums of the weights
+	 * @param weight
+	 *            the weight of the values
+	 */
+	public void accumulate(double[] sums, int[] counts, int weight) {
+		for (int i = nextPresent(0); i >= 0; i = nextPresent(i + 1)) {
+			sums[i] += weight * values[i];
+			counts[i] += weight;
+		}
+	}
+
+	/**
+	 * Put the averages of the accumulated values for all the keys with a
+	 * non-zero count. The arrays are indexed by ordinal.
+	 * 
+	 * @param sums
+	 *            the weighted sums of the values
+	 * @param counts
+	 *            the sums of the weights
+	 */
+	public void putAverages(double[] sums, int[] counts) {
+		prepareWrite();
+		for (int i = 0; i < universe.length; ++i) {
+			if (counts[i] != 0) {
+				values[i] = sums[i] / counts[i];
+				setPresent(i);
+			}
+		}
+	}
+
+	/* ***************************************************************
+	 * OVERRIDEN METHODS
+	 * ***************************************************************
+	 */
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public void putAll(Map<? extends K, ? extends Double> map) {
+		if (map instanceof DoubleEnumMap<?>
+				&& ((DoubleEnumMap<?>) map).universe == universe)
+			putAllValues((DoubleEnumMap<K>) map);
+		else
+			super.putAll(map);
+	}
+
+	@Override
+	protected Double getBoxed(int ordinal) {
+		return values[ordinal];
+	}
+
+	@Override
+	protected void cloneValues() {
+		values = values.clone();
+	}
+
+	@Override
+	protected void setBoxed(int ordinal, Double value) {
+		values[ordinal] = value;
+	}
+
+}
@@ -0,0 +1,422 @@
+package edu.duke.starfish.profile.profileinfo.execution.profile;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * A map from the constants of an enum to primitive values. The values are
+ * stored in a primitive array indexed by the ordinal of the enum constants,
+ * and a bitset keeps track of the keys that are present. Subclasses provide
+ * the primitive storage and the boxing of the values, which only happens when
+ * the map is accessed through the {@link Map} interface.
+ * 
+ * The iteration order is the ordinal order of the enum constants, like in
+ * {@link java.util.EnumMap}. Null values are not supported.
+ * 
+ * Copies of a map marked as shared are cheap: a copy shares the arrays with
+ * the original map, and whichever map is modified first takes its own copy of
+ * the arrays. Copies of any other map copy the arrays right away.
+ * 
+ * @param <K>
+ *            the enum type of the keys
+ * @param <V>
+ *            the (boxed) type of the values
+ * 
+ * @author hero
+ */
+public abstract class EnumValueMap<K extends Enum<K>, V> extends
+		AbstractMap<K, V> {
+
+	/* ***************************************************************
+	 * DATA MEMBERS
+	 * ***************************************************************
+	 */
+
+	protected final K[] universe; // All the enum constants (shared)
+	protected long[] present; // The bitset of the present keys
+	protected int size; // The number of present keys
+	private boolean shared; // Whether the arrays may be shared with a copy
+
+	private EntrySet entrySet; // The entry set view (created on demand)
+
+	/**
+	 * Constructor
+	 * 
+	 * @param universe
+	 *            all the constants of the enum, in ordinal order. The array is
+	 *            shared and must not be modified.
+	 */
+	protected EnumValueMap(K[] universe) {
+		this.universe = universe;
+		this.present = new long[(universe.length + 63) >>> 6];
+		this.size = 0;
+		this.shared = false;
+	}
+
+	/**
+	 * Copy constructor. The arrays are shared if the other map is marked as
+	 * shared, and copied otherwise. The other map is not modified, so several
+	 * threads can copy it at the same time.
+	 * 
+	 * @param other
+	 *            the map to copy from
+	 */
+	protected EnumValueMap(EnumValueMap<K, V> other) {
+		this.universe = other.universe;
+		this.shared = other.shared;
+		this.present = shared ? other.present : other.present.clone();
+		this.size = other.size;
+	}
+
+	/* ***************************************************************
+	 * PUBLIC METHODS
+	 * ***************************************************************
+	 */
+
+	/**
+	 * Mark the arrays of this map as shared. Copies made from now on share the
+	 * arrays, and whichever map is modified first takes its own copy of them.
+	 * This method modifies the map, so it must be called before the map is
+	 * made available to other threads.
+	 */
+	public final void markShared() {
+		shared = true;
+	}
+
+	/**
+	 * @param key
+	 *            the key
+	 * @return true if the key is present
+	 */
+	public final boolean contains(K key) {
+		return isPresent(key.ordinal());
+	}
+
+	/* ***************************************************************
+	 * OVERRIDEN METHODS
+	 * ***************************************************************
+	 */
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	@Override
+	public boolean containsKey(Object key) {
+		int ordinal = getOrdinal(key);
+		return ordinal >= 0 && isPresent(ordinal);
+	}
+
+	@Override
+	public V get(Object key) {
+		int ordinal = getOrdinal(key);
+		return (ordinal >= 0 && isPresent(ordinal)) ? getBoxed(ordinal) : null;
+	}
+
+	@Override
+	public V put(K key, V value) {
+		if (value == null)
+			throw new NullPointerException("Null values are not supported");
+
+		int ordinal = key.ordinal();
+		V previous = isPresent(ordinal) ? getBoxed(ordinal) : null;
+		prepareWrite();
+		setBoxed(ordinal, value);
+		setPresent(ordinal);
+		return previous;
+	}
+
+	@Override
+	public V remove(Object key) {
+		int ordinal = getOrdinal(key);
+		if (ordinal < 0 || !isPresent(ordinal))
+			return null;
+
+		V previous = getBoxed(ordinal);
+		prepareWrite();
+		clearPresent(ordinal);
+		return previous;
+	}
+
+	@Override
+	public void clear() {
+		prepareWrite();
+		for (int i = 0; i < present.length; ++i)
+			present[i] = 0l;
+		size = 0;
+	}
+
+	@Override
+	public Set<Map.Entry<K, V>> entrySet() {
+		if (entrySet == null)
+			entrySet = new EntrySet();
+		return entrySet;
+	}
+
+	/* ***************************************************************
+	 * PROTECTED METHODS
+	 * ***************************************************************
+	 */
+
+	/**
+	 * @param ordinal
+	 *            the ordinal of a key
+	 * @return the boxed value of the key
+	 */
+	protected abstract V getBoxed(int ordinal);
+
+	/**
+	 * @param ordinal
+	 *            the ordinal of a key
+	 * @param value
+	 *            the boxed value to set
+	 */
+	protected abstract void setBoxed(int ordinal, V value);
+
+	/**
+	 * Replace the array of values with a copy of it
+	 */
+	protected abstract void cloneValues();
+
+	/**
+	 * @return true if the arrays may be shared with another map
+	 */
+	protected final boolean isShared() {
+		return shared;
+	}
+
+	/**
+	 * Take a private copy of the arrays if they are shared with another map.
+	 * Must be called before modifying the arrays.
+	 */
+	protected final void prepareWrite() {
+		if (shared) {
+			present = present.clone();
+			cloneValues();
+			shared = false;
+		}
+	}
+
+	/**
+	 * @param ordinal
+	 *            the ordinal of a key
+	 * @return true if the key is present
+	 */
+	protected final boolean isPresent(int ordinal) {
+		return (present[ordinal >>> 6] & (1l << ordinal)) != 0;
+	}
+
+	/**
+	 * Mark a key as present (the arrays must not be shared)
+	 * 
+	 * @param ordinal
+	 *            the ordinal of the key
+	 */
+	protected final void setPresent(int ordinal) {
+		long bit = 1l << ordinal;
+		if ((present[ordinal >>> 6] & bit) == 0) {
+			present[ordinal >>> 6] |= bit;
+			++size;
+		}
+	}
+
+	/**
+	 * Mark a key as not present (the arrays must not be shared)
+	 * 
+	 * @param ordinal
+	 *            the ordinal of the key
+	 */
+	protected final void clearPresent(int ordinal) {
+		long bit = 1l << ordinal;
+		if ((present[ordinal >>> 6] & bit) != 0) {
+			present[ordinal >>> 6] &= ~bit;
+			--size;
+		}
+	}
+
+	/**
+	 * Find the next present key
+	 * 
+	 * @param ordinal
+	 *            the ordinal to start searching from
+	 * @return the ordinal of the next present key, or -1 if none exists
+	 */
+	protected final int nextPresent(int ordinal) {
+		int word = ordinal >>> 6;
+		if (word >= present.length)
+			return -1;
+
+		long bits = present[word] & (-1l << ordinal);
+		while (true) {
+			if (bits != 0)
+				return (word << 6) + Long.numberOfTrailingZeros(bits);
+			if (++word == present.length)
+				return -1;
+			bits = present[word];
+		}
+	}
+
+	/**
+	 * Mark all the keys present in the other map as present (the arrays must
+	 * not be shared)
+	 * 
+	 * @param other
+	 *            the other map
+	 */
+	protected final void orPresent(EnumValueMap<K, V> other) {
+		size = 0;
+		for (int i = 0; i < present.length; ++i) {
+			present[i] |= other.present[i];
+			size += Long.bitCount(present[i]);
+		}
+	}
+
+	/* ***************************************************************
+	 * PRIVATE METHODS
+	 * ***************************************************************
+	 */
+
+	/**
+	 * @param key
+	 *            a key
+	 * @return the ordinal of the key, or -1 if it is not a key of this map
+	 */
+	private int getOrdinal(Object key) {
+		if (!(key instanceof Enum<?>))
+			return -1;
+
+		int ordinal = ((Enum<?>) key).ordinal();
+		if (ordinal >= universe.length || universe[ordinal] != key)
+			return -1;
+		return ordinal;
+	}
+
+	/* ***************************************************************
+	 * PRIVATE CLASSES
+	 * ***************************************************************
+	 */
+
+	/**
+	 * The entry set view of the map
+	 * 
+	 * @author hero
+	 */
+	private class EntrySet extends AbstractSet<Map.Entry<K, V>> {
+
+		@Override
+		public Iterator<Map.Entry<K, V>> iterator() {
+			return new EntryIterator();
+		}
+
+		@Override
+		public int size() {
+			return size;
+		}
+
+		@Override
+		public void clear() {
+			EnumValueMap.this.clear();
+		}
+	}
+
+	/**
+	 * Iterates over the present entries in ordinal order
+	 * 
+	 * @author hero
+	 */
+	private class EntryIterator implements Iterator<Map.Entry<K, V>> {
+
+		private int next = nextPresent(0); // The next ordinal to return
+		private int last = -1; // The last ordinal returned
+
+		@Override
+		public boolean hasNext() {
+			return next >= 0;
+		}
+
+		@Override
+		public Map.Entry<K, V> next() {
+			if (next < 0)
+				throw new NoSuchElementException();
+
+			last = next;
+			next = nextPresent(next + 1);
+			return new Entry(last);
+		}
+
+		@Override
+		public void remove() {
+			if (last < 0)
+				throw new IllegalStateException();
+
+			prepareWrite();
+			clearPresent(last);
+			last = -1;
+		}
+	}
+
+	/**
+	 * An entry that reads and writes through to the map
+	 * 
+	 * @author hero
+	 */
+	private class Entry implements Map.Entry<K, V> {
+
+		private final int ordinal; // The ordinal of the key
+
+		/**
+		 * Constructor
+		 * 
+		 * @param ordinal
+		 *            the ordinal of the key
+		 */
+		public Entry(int ordinal) {
+			this.ordinal = ordinal;
+		}
+
+		@Override
+		public K getKey() {
+			return universe[ordinal];
+		}
+
+		@Override
+		public V getValue() {
+			return getBoxed(ordinal);
+		}
+
+		@Override
+		public V setValue(V value) {
+			return put(universe[ordinal], value);
+		}
+
+		@Override
+		public int hashCode() {
+			return getKey().hashCode() ^ getValue().hashCode();
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (!(obj instanceof Map.Entry<?, ?>))
+				return false;
+			Map.Entry<?, ?> other = (Map.Entry<?, ?>) obj;
+			return getKey() == other.getKey()
+					&& getValue().equals(other.getValue());
+		}
+
+		@Override
+		public String toString() {
+			return getKey() + "=" + getValue();
+		}
+	}
+
+}
@@ -2,7 +2,6 @@ package edu.duke.starfish.profile.profileinfo.execution.profile;
 
 import java.io.PrintStream;
 import java.text.NumberFormat;
-import java.util.EnumMap;
 import java.util.Map;
 import java.util.Map.Entry;
 
@@ -15,6 +14,11 @@ import edu.duke.starfish.profile.profileinfo.execution.profile.enums.MRStatistic
  * map-reduce task attempt, task, or job. It contains counters, statistics, and
  * cost factors.
  * 
+ * The counters, statistics, and cost factors are stored in primitive arrays
+ * indexed by the enum ordinals (see {@link EnumValueMap}). The methods that
+ * take and return primitive values avoid boxing altogether, while the getters
+ * that return maps provide views over the same storage.
+ * 
  * @author hero
  */
 public abstract class MRExecProfile {
@@ -24,9 +28,14 @@ public abstract class MRExecProfile {
 	 * ***************************************************************
 	 */
 
-	private Map<MRCounter, Long> counters; // The counters
-	private Map<MRStatistics, Double> stats; // The statistics
-	private Map<MRCostFactors, Double> costs; // The costs
+	private LongEnumMap<MRCounter> counters; // The counters
+	private DoubleEnumMap<MRStatistics> stats; // The statistics
+	private DoubleEnumMap<MRCostFactors> costs; // The costs
+
+	// The enum constants shared by all the maps
+	static final MRCounter[] COUNTERS = MRCounter.values();
+	static final MRStatistics[] STATISTICS = MRStatistics.values();
+	static final MRCostFactors[] COST_FACTORS = MRCostFactors.values();
 
 	/**
 	 * Default constructor
@@ -46,11 +55,11 @@ public abstract class MRExecProfile {
 	public MRExecProfile(MRExecProfile other) {
 		this();
 		if (other.counters != null)
-			this.counters = new EnumMap<MRCounter, Long>(other.counters);
+			this.counters = new LongEnumMap<MRCounter>(other.counters);
 		if (other.stats != null)
-			this.stats = new EnumMap<MRStatistics, Double>(other.stats);
+			this.stats = new DoubleEnumMap<MRStatistics>(other.stats);
 		if (other.costs != null)
-			this.costs = new EnumMap<MRCostFactors, Double>(other.costs);
+			this.costs = new DoubleEnumMap<MRCostFactors>(other.costs);
 	}
 
 	/* ***************************************************************
@@ -62,51 +71,51 @@ public abstract class MRExecProfile {
 	 * @return the counters
 	 */
 	public Map<MRCounter, Long> getCounters() {
-		if (counters == null) // Create on demand
-			counters = new EnumMap<MRCounter, Long>(MRCounter.class);
-		return counters;
+		return getCounterMap(true);
 	}
 
 	/**
 	 * @return the statistics
 	 */
 	public Map<MRStatistics, Double> getStatistics() {
-		if (stats == null) // Create on demand
-			stats = new EnumMap<MRStatistics, Double>(MRStatistics.class);
-		return stats;
+		return getStatisticMap(true);
 	}
 
 	/**
 	 * @return the costs
 	 */
 	public Map<MRCostFactors, Double> getCostFactors() {
-		if (costs == null) // Create on demand
-			costs = new EnumMap<MRCostFactors, Double>(MRCostFactors.class);
-		return costs;
+		return getCostFactorMap(true);
 	}
 
 	/**
 	 * @param counters
-	 *            the counters to set
+	 *            the counters to set (they are copied)
 	 */
 	public void setCounters(Map<MRCounter, Long> counters) {
-		this.counters = counters;
+		this.counters = null;
+		if (counters != null)
+			addCounters(counters);
 	}
 
 	/**
 	 * @param stats
-	 *            the statistics to set
+	 *            the statistics to set (they are copied)
 	 */
 	public void setStatistics(Map<MRStatistics, Double> stats) {
-		this.stats = stats;
+		this.stats = null;
+		if (stats != null)
+			addStatistics(stats);
 	}
 
 	/**
 	 * @param costs
-	 *            the cost factors to set
+	 *            the cost factors to set (they are copied)
 	 */
 	public void setCostFactors(Map<MRCostFactors, Double> costs) {
-		this.costs = costs;
+		this.costs = null;
+		if (costs != null)
+			addCostFactors(costs);
 	}
 
 	/* ***************************************************************
@@ -124,7 +133,7 @@ public abstract class MRExecProfile {
 	 */
 	public void addCounter(MRCounter counter, Long value) {
 		if (counters == null) // Create on demand
-			counters = new EnumMap<MRCounter, Long>(MRCounter.class);
+			counters = new LongEnumMap<MRCounter>(COUNTERS);
 		counters.put(counter, value);
 	}
 
@@ -138,7 +147,7 @@ public abstract class MRExecProfile {
 	 */
 	public void addStatistic(MRStatistics stat, Double value) {
 		if (stats == null) // Create on demand
-			stats = new EnumMap<MRStatistics, Double>(MRStatistics.class);
+			stats = new DoubleEnumMap<MRStatistics>(STATISTICS);
 		stats.put(stat, value);
 	}
 
@@ -152,43 +161,109 @@ public abstract class MRExecProfile {
 	 */
 	public void addCostFactor(MRCostFactors cost, Double value) {
 		if (costs == null) // Create on demand
-			costs = new EnumMap<MRCostFactors, Double>(MRCostFactors.class);
+			costs = new DoubleEnumMap<MRCostFactors>(COST_FACTORS);
 		costs.put(cost, value);
 	}
 
 	/**
-	 * Add all counters
+	 * Add a counter without boxing its value
+	 * 
+	 * @param counter
+	 *            the counter to add
+	 * @param value
+	 *            the value of the counter
+	 */
+	public void addCounter(MRCounter counter, long value) {
+		if (counters == null) // Create on demand
+			counters = new LongEnumMap<MRCounter>(COUNTERS);
+		counters.putValue(counter, value);
+	}
+
+	/**
+	 * Add a statistic without boxing its value
+	 * 
+	 * @param stat
+	 *            the statistic to add
+	 * @param value
+	 *            the value of the statistic
+	 */
+	public void addStatistic(MRStatistics stat, double value) {
+		if (stats == null) // Create on demand
+			stats = new DoubleEnumMap<MRStatistics>(STATISTICS);
+		stats.putValue(stat, value);
+	}
+
+	/**
+	 * Add a cost factor without boxing its value
+	 * 
+	 * @param cost
+	 *            the cost factor to add
+	 * @param value
+	 *            the value of the cost factor
+	 */
+	public void addCostFactor(MRCostFactors cost, double value) {
+		if (costs == null) // Create on demand
+			costs = new DoubleEnumMap<MRCostFactors>(COST_FACTORS);
+		costs.putValue(cost, value);
+	}
+
+	/**
+	 * Add all counters. If this profile has no counters yet, it copies a
+	 * primitive map, sharing its arrays if the map is marked as shared.
 	 * 
 	 * @param counters
 	 *            the counters to add
 	 */
+	@SuppressWarnings("unchecked")
 	public void addCounters(Map<MRCounter, Long> counters) {
+		if (this.counters == null && counters instanceof LongEnumMap<?>) {
+			this.counters = new LongEnumMap<MRCounter>(
+					(LongEnumMap<MRCounter>) counters);
+			return;
+		}
+
 		if (this.counters == null) // Create on demand
-			this.counters = new EnumMap<MRCounter, Long>(MRCounter.class);
+			this.counters = new LongEnumMap<MRCounter>(COUNTERS);
 		this.counters.putAll(counters);
 	}
 
 	/**
-	 * Add all statistics
+	 * Add all statistics. If this profile has no statistics yet, it copies a
+	 * primitive map, sharing its arrays if the map is marked as shared.
 	 * 
 	 * @param stats
 	 *            the statistics to add
 	 */
+	@SuppressWarnings("unchecked")
 	public void addStatistics(Map<MRStatistics, Double> stats) {
+		if (this.stats == null && stats instanceof DoubleEnumMap<?>) {
+			this.stats = new DoubleEnumMap<MRStatistics>(
+					(DoubleEnumMap<MRStatistics>) stats);
+			return;
+		}
+
 		if (this.stats == null) // Create on demand
-			this.stats = new EnumMap<MRStatistics, Double>(MRStatistics.class);
+			this.stats = new DoubleEnumMap<MRStatistics>(STATISTICS);
 		this.stats.putAll(stats);
 	}
 
 	/**
-	 * Add all cost factors
+	 * Add all cost factors. If this profile has no cost factors yet, it copies
+	 * a primitive map, sharing its arrays if the map is marked as shared.
 	 * 
 	 * @param costs
 	 *            the cost factors to add
 	 */
+	@SuppressWarnings("unchecked")
 	public void addCostFactors(Map<MRCostFactors, Double> costs) {
+		if (this.costs == null && costs instanceof DoubleEnumMap<?>) {
+			this.costs = new DoubleEnumMap<MRCostFactors>(
+					(DoubleEnumMap<MRCostFactors>) costs);
+			return;
+		}
+
 		if (this.costs == null) // Create on demand
-			this.costs = new EnumMap<MRCostFactors, Double>(MRCostFactors.class);
+			this.costs = new DoubleEnumMap<MRCostFactors>(COST_FACTORS);
 		this.costs.putAll(costs);
 	}
 
@@ -200,7 +275,7 @@ public abstract class MRExecProfile {
 	 * @return true if the counter exists
 	 */
 	public boolean containsCounter(MRCounter counter) {
-		return (counters != null && counters.containsKey(counter));
+		return (counters != null && counters.contains(counter));
 	}
 
 	/**
@@ -211,7 +286,7 @@ public abstract class MRExecProfile {
 	 * @return true if the statistic exists
 	 */
 	public boolean containsStatistic(MRStatistics stat) {
-		return (stats != null && stats.containsKey(stat));
+		return (stats != null && stats.contains(stat));
 	}
 
 	/**
@@ -222,7 +297,7 @@ public abstract class MRExecProfile {
 	 * @return true if the cost factor exists
 	 */
 	public boolean containsCostFactor(MRCostFactors cost) {
-		return (costs != null && costs.containsKey(cost));
+		return (costs != null && costs.contains(cost));
 	}
 
 	/**
@@ -246,10 +321,24 @@ public abstract class MRExecProfile {
 	 * @return the value of the counter
 	 */
 	public Long getCounter(MRCounter counter, Long defaultValue) {
-		if (counters == null || !counters.containsKey(counter))
+		if (counters == null || !counters.contains(counter))
 			return defaultValue;
 		else
-			return counters.get(counter);
+			return counters.getValue(counter, 0l);
+	}
+
+	/**
+	 * Get a counter without boxing its value
+	 * 
+	 * @param counter
+	 *            the counter to get
+	 * @param defaultValue
+	 *            the default value to get if the counter is not found
+	 * @return the value of the counter
+	 */
+	public long getCounter(MRCounter counter, long defaultValue) {
+		return counters == null ? defaultValue : counters.getValue(counter,
+				defaultValue);
 	}
 
 	/**
@@ -273,10 +362,24 @@ public abstract class MRExecProfile {
 	 * @return the value of the statistic
 	 */
 	public Double getStatistic(MRStatistics stat, Double defaultValue) {
-		if (stats == null || !stats.containsKey(stat))
+		if (stats == null || !stats.contains(stat))
 			return defaultValue;
 		else
-			return stats.get(stat);
+			return stats.getValue(stat, 0d);
+	}
+
+	/**
+	 * Get a statistic without boxing its value
+	 * 
+	 * @param stat
+	 *            the statistic to get
+	 * @param defaultValue
+	 *            the default value to get if the statistic is not found
+	 * @return the value of the statistic
+	 */
+	public double getStatistic(MRStatistics stat, double defaultValue) {
+		return stats == null ? defaultValue : stats.getValue(stat,
+				defaultValue);
 	}
 
 	/**
@@ -300,10 +403,24 @@ public abstract class MRExecProfile {
 	 * @return the value of the cost factor
 	 */
 	public Double getCostFactor(MRCostFactors cost, Double defaultValue) {
-		if (costs == null || !costs.containsKey(cost))
+		if (costs == null || !costs.contains(cost))
 			return defaultValue;
 		else
-			return costs.get(cost);
+			return costs.getValue(cost, 0d);
+	}
+
+	/**
+	 * Get a cost factor without boxing its value
+	 * 
+	 * @param cost
+	 *            the cost factor to get
+	 * @param defaultValue
+	 *            the default value to get if the cost factor is not found
+	 * @return the value of the cost factor
+	 */
+	public double getCostFactor(MRCostFactors cost, double defaultValue) {
+		return costs == null ? defaultValue : costs.getValue(cost,
+				defaultValue);
 	}
 
 	/**
@@ -330,6 +447,21 @@ public abstract class MRExecProfile {
 			costs.clear();
 	}
 
+	/**
+	 * Mark the counters, statistics, and cost factors as shared, so that the
+	 * copies of this profile share their arrays until either profile is
+	 * modified. Call it once the profile is built and before other threads
+	 * copy it.
+	 */
+	public void markShared() {
+		if (counters != null)
+			counters.markShared();
+		if (stats != null)
+			stats.markShared();
+		if (costs != null)
+			costs.markShared();
+	}
+
 	/* ***************************************************************
 	 * OVERRIDEN METHODS
 	 * ***************************************************************
@@ -422,4 +554,45 @@ public abstract class MRExecProfile {
 
 	}
 
+	/* ***************************************************************
+	 * PACKAGE METHODS
+	 * ***************************************************************
+	 */
+
+	/**
+	 * @param create
+	 *            whether to create the map if it does not exist
+	 * @return the primitive map of the counters (null if it does not exist and
+	 *         create is false)
+	 */
+	LongEnumMap<MRCounter> getCounterMap(boolean create) {
+		if (counters == null && create) // Create on demand
+			counters = new LongEnumMap<MRCounter>(COUNTERS);
+		return counters;
+	}
+
+	/**
+	 * @param create
+	 *            whether to create the map if it does not exist
+	 * @return the primitive map of the statistics (null if it does not exist
+	 *         and create is false)
+	 */
+	DoubleEnumMap<MRStatistics> getStatisticMap(boolean create) {
+		if (stats == null && create) // Create on demand
+			stats = new DoubleEnumMap<MRStatistics>(STATISTICS);
+		return stats;
+	}
+
+	/**
+	 * @param create
+	 *            whether to create the map if it does not exist
+	 * @return the primitive map of the cost factors (null if it does not exist
+	 *         and create is false)
+	 */
+	DoubleEnumMap<MRCostFactors> getCostFactorMap(boolean create) {
+		if (costs == null && create) // Create on demand
+			costs = new DoubleEnumMap<MRCostFactors>(COST_FACTORS);
+		return costs;
+	}
+
 }
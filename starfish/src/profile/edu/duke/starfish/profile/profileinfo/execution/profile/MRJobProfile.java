@@ -2,6 +2,7 @@ package edu.duke.starfish.profile.profileinfo.execution.profile;
 
 import java.io.PrintStream;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 
@@ -42,6 +43,10 @@ public class MRJobProfile extends MRExecProfile {
 	private static final String AVG_MAP = "average_map_";
 	private static final String AVG_REDUCE = "average_reduce_";
 
+	private static final int MAX_ENUM_LENGTH = Math.max(Math.max(
+			COUNTERS.length, STATISTICS.length), Math.max(COST_FACTORS.length,
+			MRTaskProfile.PHASES.length));
+
 	private static final MRCostFactors[] missingMapCosts = {
 			MRCostFactors.READ_LOCAL_IO_COST,
 			MRCostFactors.WRITE_LOCAL_IO_COST, MRCostFactors.MERGE_CPU_COST,
@@ -302,7 +307,9 @@ public class MRJobProfile extends MRExecProfile {
 		long numMappers = this.getCounter(MRCounter.MAP_TASKS, 0l);
 		long numReducers = this.getCounter(MRCounter.REDUCE_TASKS, 0l);
 
-		List<MRTaskProfile> allProfiles = new ArrayList<MRTaskProfile>();
+		List<MRTaskProfile> allProfiles = new ArrayList<MRTaskProfile>(
+				(mapProfiles == null ? 0 : mapProfiles.size())
+						+ (reduceProfiles == null ? 0 : reduceProfiles.size()));
 		if (mapProfiles != null)
 			allProfiles.addAll(mapProfiles);
 		if (reduceProfiles != null)
@@ -324,8 +331,12 @@ public class MRJobProfile extends MRExecProfile {
 			}
 		}
 
+		// The scratch arrays used for averaging (indexed by enum ordinal)
+		double[] sumValues = new double[MAX_ENUM_LENGTH];
+		int[] numValues = new int[MAX_ENUM_LENGTH];
+
 		// Average all the new values for the job and the tasks
-		updateExecProfile(this, allProfiles);
+		updateExecProfile(this, allProfiles, sumValues, numValues);
 
 		// Average the map profiles given they input they processed
 		if (mapProfiles != null) {
@@ -334,7 +345,8 @@ public class MRJobProfile extends MRExecProfile {
 			List<List<MRMapProfile>> sepProfiles = separateMapProfilesBasedOnInput();
 			for (int i = 0; i < avgProfiles.size(); i++) {
 				avgMapProfile = avgProfiles.get(i);
-				updateTaskProfile(avgMapProfile, sepProfiles.get(i));
+				updateTaskProfile(avgMapProfile, sepProfiles.get(i), sumValues,
+						numValues);
 
 				// Update the input index (note: all profiles at pos i refer to
 				// the same input)
@@ -356,7 +368,8 @@ public class MRJobProfile extends MRExecProfile {
 		// Average the reduce profiles
 		if (reduceProfiles != null) {
 			MRReduceProfile avgRedProfile = getAvgReduceProfile();
-			updateTaskProfile(avgRedProfile, reduceProfiles);
+			updateTaskProfile(avgRedProfile, reduceProfiles, sumValues,
+					numValues);
 
 			// Add combiner statistics to the average reducer profile
 			for (MRStatistics stat : missingReduceStats) {
@@ -380,6 +393,28 @@ public class MRJobProfile extends MRExecProfile {
 		this.addCounter(MRCounter.REDUCE_TASKS, numReducers);
 	}
 
+	/**
+	 * Mark the maps of the job profile and of all its task profiles as shared
+	 */
+	@Override
+	public void markShared() {
+		super.markShared();
+		if (mapProfiles != null) {
+			for (MRMapProfile prof : mapProfiles)
+				prof.markShared();
+		}
+		if (reduceProfiles != null) {
+			for (MRReduceProfile prof : reduceProfiles)
+				prof.markShared();
+		}
+		if (avgMapProfiles != null) {
+			for (MRMapProfile prof : avgMapProfiles)
+				prof.markShared();
+		}
+		if (avgReduceProfile != null)
+			avgReduceProfile.markShared();
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * 
@@ -452,32 +487,29 @@ public class MRJobProfile extends MRExecProfile {
 	 *            the map to place in the averaged counters
 	 * @param taskProfiles
 	 *            the list with the task profiles
+	 * @param sumValues
+	 *            the scratch array for the sums (indexed by ordinal)
+	 * @param numValues
+	 *            the scratch array for the counts (indexed by ordinal)
 	 */
-	private void averageCounters(Map<MRCounter, Long> counters,
-			List<? extends MRTaskProfile> taskProfiles) {
-
-		double sumValues;
-		int numValues;
-
-		// Average the value of each counter from all task profiles
-		for (MRCounter counter : MRCounter.values()) {
-			sumValues = 0;
-			numValues = 0;
-
-			for (MRTaskProfile taskProfile : taskProfiles) {
-				if (taskProfile.containsCounter(counter)) {
-					sumValues += taskProfile.getNumTasks()
-							* taskProfile.getCounter(counter, 0l);
-					numValues += taskProfile.getNumTasks();
-				}
-			}
-
-			// Add the averaged counter
-			if (numValues != 0) {
-				counters.put(counter, (long) Math.round(sumValues / numValues));
-			}
+	private void averageCounters(LongEnumMap<MRCounter> counters,
+			List<? extends MRTaskProfile> taskProfiles,
+			double[] sumValues, int[] numValues) {
+
+		Arrays.fill(sumValues, 0d);
+		Arrays.fill(numValues, 0);
+
+		// Sum up the value of each counter from all task profiles
+		for (int i = 0; i < taskProfiles.size(); ++i) {
+			MRTaskProfile taskProfile = taskProfiles.get(i);
+			LongEnumMap<MRCounter> values = taskProfile.getCounterMap(false);
+			if (values != null)
+				values.accumulate(sumValues, numValues, taskProfile
+						.getNumTasks());
 		}
 
+		// Add the averaged counters
+		counters.putAverages(sumValues, numValues);
 	}
 
 	/**
@@ -487,32 +519,30 @@ public class MRJobProfile extends MRExecProfile {
 	 *            the map to place in the averaged statistics
 	 * @param taskProfiles
 	 *            the list with the task profiles
+	 * @param sumValues
+	 *            the scratch array for the sums (indexed by ordinal)
+	 * @param numValues
+	 *            the scratch array for the counts (indexed by ordinal)
 	 */
-	private void averageStatistics(Map<MRStatistics, Double> stats,
-			List<? extends MRTaskProfile> taskProfiles) {
-
-		double sumValues;
-		int numValues;
-
-		// Average the values of each statistic from all task profiles
-		for (MRStatistics stat : MRStatistics.values()) {
-			sumValues = 0;
-			numValues = 0;
-
-			for (MRTaskProfile taskProfile : taskProfiles) {
-				if (taskProfile.containsStatistic(stat)) {
-					sumValues += taskProfile.getNumTasks()
-							* taskProfile.getStatistic(stat, 0d);
-					numValues += taskProfile.getNumTasks();
-				}
-			}
-
-			// Add the averaged counter
-			if (numValues != 0) {
-				stats.put(stat, sumValues / numValues);
-			}
+	private void averageStatistics(DoubleEnumMap<MRStatistics> stats,
+			List<? extends MRTaskProfile> taskProfiles,
+			double[] sumValues, int[] numValues) {
+
+		Arrays.fill(sumValues, 0d);
+		Arrays.fill(numValues, 0);
+
+		// Sum up the values of each statistic from all task profiles
+		for (int i = 0; i < taskProfiles.size(); ++i) {
+			MRTaskProfile taskProfile = taskProfiles.get(i);
+			DoubleEnumMap<MRStatistics> values = taskProfile
+					.getStatisticMap(false);
+			if (values != null)
+				values.accumulate(sumValues, numValues, taskProfile
+						.getNumTasks());
 		}
 
+		// Add the averaged statistics
+		stats.putAverages(sumValues, numValues);
 	}
 
 	/**
@@ -522,32 +552,30 @@ public class MRJobProfile extends MRExecProfile {
 	 *            the map to place in the averaged cost factors
 	 * @param taskProfiles
 	 *            the list with the task profiles
+	 * @param sumValues
+	 *            the scratch array for the sums (indexed by ordinal)
+	 * @param numValues
+	 *            the scratch array for the counts (indexed by ordinal)
 	 */
-	private void averageCostFactors(Map<MRCostFactors, Double> costs,
-			List<? extends MRTaskProfile> taskProfiles) {
-
-		double sumValues;
-		int numValues;
-
-		// Average the values of each cost factor from all task profiles
-		for (MRCostFactors cost : MRCostFactors.values()) {
-			sumValues = 0;
-			numValues = 0;
-
-			for (MRTaskProfile taskProfile : taskProfiles) {
-				if (taskProfile.containsCostFactor(cost)) {
-					sumValues += taskProfile.getNumTasks()
-							* taskProfile.getCostFactor(cost, 0d);
-					numValues += taskProfile.getNumTasks();
-				}
-			}
-
-			// Add the averaged counter
-			if (numValues != 0) {
-				costs.put(cost, sumValues / numValues);
-			}
+	private void averageCostFactors(DoubleEnumMap<MRCostFactors> costs,
+			List<? extends MRTaskProfile> taskProfiles,
+			double[] sumValues, int[] numValues) {
+
+		Arrays.fill(sumValues, 0d);
+		Arrays.fill(numValues, 0);
+
+		// Sum up the values of each cost factor from all task profiles
+		for (int i = 0; i < taskProfiles.size(); ++i) {
+			MRTaskProfile taskProfile = taskProfiles.get(i);
+			DoubleEnumMap<MRCostFactors> values = taskProfile
+					.getCostFactorMap(false);
+			if (values != null)
+				values.accumulate(sumValues, numValues, taskProfile
+						.getNumTasks());
 		}
 
+		// Add the averaged cost factors
+		costs.putAverages(sumValues, numValues);
 	}
 
 	/**
@@ -557,31 +585,30 @@ public class MRJobProfile extends MRExecProfile {
 	 *            the map to place in the averaged timings
 	 * @param taskProfiles
 	 *            the list with the map or reduce task profiles
+	 * @param sumValues
+	 *            the scratch array for the sums (indexed by ordinal)
+	 * @param numValues
+	 *            the scratch array for the counts (indexed by ordinal)
 	 */
-	private void averageTimings(Map<MRTaskPhase, Double> timings,
-			List<? extends MRTaskProfile> taskProfiles) {
-
-		double sumValues;
-		int numValues;
-
-		// Average the values of each cost factor from all task profiles
-		for (MRTaskPhase phase : MRTaskPhase.values()) {
-			sumValues = 0;
-			numValues = 0;
-
-			for (MRTaskProfile taskProfile : taskProfiles) {
-				if (taskProfile.containsTiming(phase)) {
-					sumValues += taskProfile.getNumTasks()
-							* taskProfile.getTiming(phase, 0d);
-					numValues += taskProfile.getNumTasks();
-				}
-			}
-
-			// Add the averaged counter
-			if (numValues != 0) {
-				timings.put(phase, sumValues / numValues);
-			}
+	private void averageTimings(DoubleEnumMap<MRTaskPhase> timings,
+			List<? extends MRTaskProfile> taskProfiles,
+			double[] sumValues, int[] numValues) {
+
+		Arrays.fill(sumValues, 0d);
+		Arrays.fill(numValues, 0);
+
+		// Sum up the values of each phase timing from all task profiles
+		for (int i = 0; i < taskProfiles.size(); ++i) {
+			MRTaskProfile taskProfile = taskProfiles.get(i);
+			DoubleEnumMap<MRTaskPhase> values = taskProfile
+					.getTimingMap(false);
+			if (values != null)
+				values.accumulate(sumValues, numValues, taskProfile
+						.getNumTasks());
 		}
+
+		// Add the averaged timings
+		timings.putAverages(sumValues, numValues);
 	}
 
 	/**
@@ -641,16 +668,24 @@ public class MRJobProfile extends MRExecProfile {
 	 *            the profile to update
 	 * @param taskProfiles
 	 *            a list with task profiles
+	 * @param sumValues
+	 *            the scratch array for the sums
+	 * @param numValues
+	 *            the scratch array for the counts
 	 */
 	private void updateExecProfile(MRExecProfile profile,
-			List<? extends MRTaskProfile> taskProfiles) {
+			List<? extends MRTaskProfile> taskProfiles, double[] sumValues,
+			int[] numValues) {
 		// Clear all the existing values
 		profile.clearProfile();
 
 		// Averages all the new values
-		averageCounters(profile.getCounters(), taskProfiles);
-		averageStatistics(profile.getStatistics(), taskProfiles);
-		averageCostFactors(profile.getCostFactors(), taskProfiles);
+		averageCounters(profile.getCounterMap(true), taskProfiles,
+				sumValues, numValues);
+		averageStatistics(profile.getStatisticMap(true), taskProfiles,
+				sumValues, numValues);
+		averageCostFactors(profile.getCostFactorMap(true), taskProfiles,
+				sumValues, numValues);
 	}
 
 	/**
@@ -661,18 +696,24 @@ public class MRJobProfile extends MRExecProfile {
 	 *            the profile to update
 	 * @param taskProfiles
 	 *            a list with task profiles
+	 * @param sumValues
+	 *            the scratch array for the sums
+	 * @param numValues
+	 *            the scratch array for the counts
 	 */
 	private void updateTaskProfile(MRTaskProfile profile,
-			List<? extends MRTaskProfile> taskProfiles) {
+			List<? extends MRTaskProfile> taskProfiles, double[] sumValues,
+			int[] numValues) {
 		// Averages all the new values
 		profile.clearProfile();
-		updateExecProfile(profile, taskProfiles);
-		averageTimings(profile.getTimings(), taskProfiles);
+		updateExecProfile(profile, taskProfiles, sumValues, numValues);
+		averageTimings(profile.getTimingMap(true), taskProfiles,
+				sumValues, numValues);
 
 		// Set the number of task this profile is applicable to
 		int numTasks = 0;
-		for (MRTaskProfile prof : taskProfiles) {
-			numTasks += prof.getNumTasks();
+		for (int i = 0; i < taskProfiles.size(); ++i) {
+			numTasks += taskProfiles.get(i).getNumTasks();
 		}
 		profile.setNumTasks(numTasks);
 	}
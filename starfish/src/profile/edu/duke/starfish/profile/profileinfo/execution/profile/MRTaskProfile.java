@@ -2,7 +2,6 @@ package edu.duke.starfish.profile.profileinfo.execution.profile;
 
 import java.io.PrintStream;
 import java.text.NumberFormat;
-import java.util.EnumMap;
 import java.util.Map;
 
 import edu.duke.starfish.profile.profileinfo.execution.profile.enums.MRTaskPhase;
@@ -22,7 +21,10 @@ public class MRTaskProfile extends MRExecProfile {
 	 */
 
 	private String taskId; // The task to profile
-	private Map<MRTaskPhase, Double> timings; // The phase timings
+	private DoubleEnumMap<MRTaskPhase> timings; // The phase timings
+
+	// The enum constants shared by all the timing maps
+	static final MRTaskPhase[] PHASES = MRTaskPhase.values();
 	private int numTasks; // The number of tasks it is applicable to
 
 	/**
@@ -50,7 +52,7 @@ public class MRTaskProfile extends MRExecProfile {
 
 		this.taskId = other.taskId;
 		if (other.timings != null)
-			this.timings = new EnumMap<MRTaskPhase, Double>(other.timings);
+			this.timings = new DoubleEnumMap<MRTaskPhase>(other.timings);
 		this.numTasks = other.numTasks;
 	}
 
@@ -118,9 +120,7 @@ public class MRTaskProfile extends MRExecProfile {
 	 * @return the timings
 	 */
 	public Map<MRTaskPhase, Double> getTimings() {
-		if (timings == null) // Create on demand
-			timings = new EnumMap<MRTaskPhase, Double>(MRTaskPhase.class);
-		return timings;
+		return getTimingMap(true);
 	}
 
 	/**
@@ -161,19 +161,41 @@ public class MRTaskProfile extends MRExecProfile {
 	 */
 	public void addTiming(MRTaskPhase phase, Double value) {
 		if (timings == null) // Create on demand
-			timings = new EnumMap<MRTaskPhase, Double>(MRTaskPhase.class);
+			timings = new DoubleEnumMap<MRTaskPhase>(PHASES);
 		timings.put(phase, value);
 	}
 
 	/**
-	 * Add all phase timings
+	 * Add a phase timing without boxing its value
+	 * 
+	 * @param phase
+	 *            the phase timing to add
+	 * @param value
+	 *            the value of the phase timing
+	 */
+	public void addTiming(MRTaskPhase phase, double value) {
+		if (timings == null) // Create on demand
+			timings = new DoubleEnumMap<MRTaskPhase>(PHASES);
+		timings.putValue(phase, value);
+	}
+
+	/**
+	 * Add all phase timings. If this profile has no timings yet, it copies a
+	 * primitive map, sharing its arrays if the map is marked as shared.
 	 * 
 	 * @param timings
 	 *            the timings to add
 	 */
+	@SuppressWarnings("unchecked")
 	public void addTimings(Map<MRTaskPhase, Double> timings) {
+		if (this.timings == null && timings instanceof DoubleEnumMap<?>) {
+			this.timings = new DoubleEnumMap<MRTaskPhase>(
+					(DoubleEnumMap<MRTaskPhase>) timings);
+			return;
+		}
+
 		if (this.timings == null) // Create on demand
-			this.timings = new EnumMap<MRTaskPhase, Double>(MRTaskPhase.class);
+			this.timings = new DoubleEnumMap<MRTaskPhase>(PHASES);
 		this.timings.putAll(timings);
 	}
 
@@ -185,7 +207,7 @@ public class MRTaskProfile extends MRExecProfile {
 	 * @return true if the phase timing exists
 	 */
 	public boolean containsTiming(MRTaskPhase phase) {
-		return (timings != null && timings.containsKey(phase));
+		return (timings != null && timings.contains(phase));
 	}
 
 	/**
@@ -198,10 +220,24 @@ public class MRTaskProfile extends MRExecProfile {
 	 * @return the value of the phase timing
 	 */
 	public Double getTiming(MRTaskPhase phase, Double defaultValue) {
-		if (timings == null || !timings.containsKey(phase))
+		if (timings == null || !timings.contains(phase))
 			return defaultValue;
 		else
-			return timings.get(phase);
+			return timings.getValue(phase, 0d);
+	}
+
+	/**
+	 * Get a phase timing without boxing its value
+	 * 
+	 * @param phase
+	 *            the phase timing to get
+	 * @param defaultValue
+	 *            the default value to get if the phase timing is not found
+	 * @return the value of the phase timing
+	 */
+	public double getTiming(MRTaskPhase phase, double defaultValue) {
+		return timings == null ? defaultValue : timings.getValue(phase,
+				defaultValue);
 	}
 
 	/* ***************************************************************
@@ -231,6 +267,16 @@ public class MRTaskProfile extends MRExecProfile {
 			timings.clear();
 	}
 
+	/**
+	 * Mark the timings, counters, statistics, and cost factors as shared
+	 */
+	@Override
+	public void markShared() {
+		super.markShared();
+		if (timings != null)
+			timings.markShared();
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * 
@@ -284,4 +330,21 @@ public class MRTaskProfile extends MRExecProfile {
 				+ getTimings().size() + "]";
 	}
 
+	/* ***************************************************************
+	 * PACKAGE METHODS
+	 * ***************************************************************
+	 */
+
+	/**
+	 * @param create
+	 *            whether to create the map if it does not exist
+	 * @return the primitive map of the timings (null if it does not exist and
+	 *         create is false)
+	 */
+	DoubleEnumMap<MRTaskPhase> getTimingMap(boolean create) {
+		if (timings == null && create) // Create on demand
+			timings = new DoubleEnumMap<MRTaskPhase>(PHASES);
+		return timings;
+	}
+
 }
@@ -0,0 +1,287 @@
+package edu.duke.starfish.profile.profileinfo.metrics;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * A time-indexed series of metric records, stored in columns: one array with
+ * the times and one array with the values of each column. The records are
+ * kept sorted by time, so that the records in a time range are found with a
+ * binary search.
+ * 
+ * Records without a known time are stored with the time Long.MIN_VALUE, at
+ * the beginning of the series. Each column also tracks the largest number of
+ * fraction digits of its values, so that the values can be printed the way
+ * they were read.
+ * 
+ * The series is not thread-safe while records are added. After the last
+ * record is added and the series is trimmed, it can be read concurrently.
+ * 
+ * @author hero
+ * 
+ */
+public class MetricSeries {
+
+	/* ***************************************************************
+	 * DATA MEMBERS
+	 * ***************************************************************
+	 */
+	private String[] names; // The column names
+	private int[] precisions; // The fraction digits of each column
+	private long[] times; // The record times in ms
+	private double[][] columns; // The values, by column and record
+	private int size; // The number of records
+	private boolean sorted; // Whether the records are sorted by time
+
+	// Public constants
+	public static final long NO_TIME = Long.MIN_VALUE;
+
+	private static final int INIT_CAPACITY = 64;
+
+	/**
+	 * Constructor
+	 * 
+	 * @param names
+	 *            the column names
+	 */
+	public MetricSeries(String... names) {
+		this.names = names.clone();
+		this.precisions = new int[names.length];
+		this.times = new long[INIT_CAPACITY];
+		this.columns = new double[names.length][INIT_CAPACITY];
+		this.size = 0;
+		this.sorted = true;
+	}
+
+	/* ***************************************************************
+	 * GETTERS AND SETTERS
+	 * ***************************************************************
+	 */
+
+	/**
+	 * @return the number of records
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * @return the number of columns
+	 */
+	public int getNumColumns() {
+		return names.length;
+	}
+
+	/**
+	 * @param column
+	 *            the column index
+	 * @return the column name
+	 */
+	public String getColumnName(int column) {
+		return names[column];
+	}
+
+	/**
+	 * @param row
+	 *            the record index
+	 * @return the time of the record in ms (NO_TIME if unknown)
+	 */
+	public long getTime(int row) {
+		ensureSorted();
+		return times[row];
+	}
+
+	/**
+	 * @param column
+	 *            the column index
+	 * @param row
+	 *            the record index
+	 * @return the value of the column in the record
+	 */
+	public double getValue(int column, int row) {
+		ensureSorted();
+		return columns[column][row];
+	}
+
+	/* ***************************************************************
+	 * PUBLIC METHODS
+	 * ***************************************************************
+	 */
+
+	/**
+	 * Add a record to the series
+	 * 
+	 * @param time
+	 *            the time of the record in ms (NO_TIME if unknown)
+	 * @param values
+	 *            the values of the columns
+	 */
+	public void add(long time, double... values) {
+		if (values.length != names.length)
+			throw new RuntimeException("ERROR: Expected " + names.length
+					+ " values but got " + values.length);
+
+		if (size == times.length) {
+			int capacity = Math.max(INIT_CAPACITY, 2 * size);
+			times = Arrays.copyOf(times, capacity);
+			for (int c = 0; c < columns.length; ++c)
+				columns[c] = Arrays.copyOf(columns[c], capacity);
+		}
+
+		if (size > 0 && time < times[size - 1])
+			sorted = false;
+		times[size] = time;
+		for (int c = 0; c < columns.length; ++c)
+			columns[c][size] = values[c];
+		++size;
+	}
+
+	/**
+	 * Record that a value of a column has the provided number of fraction
+	 * digits
+	 * 
+	 * @param column
+	 *            the column index
+	 * @param digits
+	 *            the number of fraction digits
+	 */
+	public void updatePrecision(int column, int digits) {
+		if (digits > precisions[column])
+			precisions[column] = digits;
+	}
+
+	/**
+	 * @param column
+	 *            the column index
+	 * @param row
+	 *            the record index
+	 * @return the value with the fraction digits of the column
+	 */
+	public String formatValue(int column, int row) {
+		return BigDecimal.valueOf(getValue(column, row)).setScale(
+				precisions[column], RoundingMode.HALF_UP).toPlainString();
+	}
+
+	/**
+	 * @return the number of records without a known time
+	 */
+	public int getNumUntimed() {
+		return getFirstRow(NO_TIME + 1);
+	}
+
+	/**
+	 * @param start
+	 *            the start time in ms
+	 * @return the index of the first record with time &gt;= start
+	 */
+	public int getFirstRow(long start) {
+		ensureSorted();
+		int low = 0;
+		int high = size;
+		while (low < high) {
+			int mid = (low + high) >>> 1;
+			if (times[mid] < start)
+				low = mid + 1;
+			else
+				high = mid;
+		}
+		return low;
+	}
+
+	/**
+	 * @param end
+	 *            the end time in ms
+	 * @return the index after the last record with time &lt;= end
+	 */
+	public int getEndRow(long end) {
+		ensureSorted();
+		int low = 0;
+		int high = size;
+		while (low < high) {
+			int mid = (low + high) >>> 1;
+			if (times[mid] <= end)
+				low = mid + 1;
+			else
+				high = mid;
+		}
+		return low;
+	}
+
+	/**
+	 * Get the values of a column for the records with a known time between
+	 * start and end inclusive
+	 * 
+	 * @param column
+	 *            the column index
+	 * @param start
+	 *            the start time in ms
+	 * @param end
+	 *            the end time in ms
+	 * @return the list of metrics
+	 */
+	public List<Metric> getMetrics(int column, long start, long end) {
+		int first = Math.max(getFirstRow(start), getNumUntimed());
+		int last = getEndRow(end);
+
+		List<Metric> metrics = new ArrayList<Metric>(Math.max(0, last
+				- first));
+		for (int row = first; row < last; ++row)
+			metrics.add(new Metric(new Date(times[row]),
+					columns[column][row]));
+		return metrics;
+	}
+
+	/**
+	 * Release the unused capacity, after all the records are added
+	 */
+	public void trim() {
+		ensureSorted();
+		times = Arrays.copyOf(times, size);
+		for (int c = 0; c < columns.length; ++c)
+			columns[c] = Arrays.copyOf(columns[c], size);
+	}
+
+	/* ***************************************************************
+	 * PRIVATE METHODS
+	 * ***************************************************************
+	 */
+
+	/**
+	 * Sort the records by time, keeping the order of the records with equal
+	 * times
+	 */
+	private void ensureSorted() {
+		if (sorted)
+			return;
+
+		// Sort the record indexes (merge sort is stable)
+		Integer[] order = new Integer[size];
+		for (int i = 0; i < size; ++i)
+			order[i] = i;
+		final long[] keys = times;
+		Arrays.sort(order, new Comparator<Integer>() {
+			public int compare(Integer a, Integer b) {
+				return keys[a] < keys[b] ? -1 : (keys[a] == keys[b] ? 0 : 1);
+			}
+		});
+
+		// Reorder the columns
+		long[] sortedTimes = new long[times.length];
+		double[][] sortedColumns = new double[columns.length][times.length];
+		for (int i = 0; i < size; ++i) {
+			sortedTimes[i] = times[order[i]];
+			for (int c = 0; c < columns.length; ++c)
+				sortedColumns[c][i] = columns[c][order[i]];
+		}
+
+		times = sortedTimes;
+		columns = sortedColumns;
+		sorted = true;
+	}
+
+}
@@ -0,0 +1,42 @@
+package edu.duke.starfish.profile.profiler;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import edu.duke.starfish.profile.profileinfo.execution.mrtaskattempts.MRTaskAttemptInfo;
+
+/**
+ * Interface for a consumer of the task logs downloaded by the
+ * {@link TaskLogDownloader}. The handlers are called concurrently from many
+ * threads, each time for a different task attempt.
+ * 
+ * @author hero
+ */
+public interface ITaskLogHandler {
+
+	/**
+	 * Check whether the log of a task attempt was already handled by an
+	 * earlier download, so that it does not need to be downloaded again.
+	 * 
+	 * @param attempt
+	 *            the task attempt
+	 * @return true if the log was already handled
+	 */
+	public boolean isHandled(MRTaskAttemptInfo attempt);
+
+	/**
+	 * Consume the log of a task attempt while it is downloaded. If the method
+	 * throws an exception, it may be called again for the same attempt, so it
+	 * must not leave any partial results behind that would make
+	 * {@link #isHandled(MRTaskAttemptInfo)} return true.
+	 * 
+	 * @param attempt
+	 *            the task attempt
+	 * @param log
+	 *            the log stream (closed by the caller)
+	 * @throws IOException
+	 */
+	public void handle(MRTaskAttemptInfo attempt, InputStream log)
+			throws IOException;
+
+}
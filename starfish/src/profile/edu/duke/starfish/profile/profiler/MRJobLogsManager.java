@@ -10,6 +10,11 @@ import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -26,18 +31,28 @@ import edu.duke.starfish.profile.profiler.loaders.MRJobProfileLoader;
 import edu.duke.starfish.profile.profiler.loaders.MRTaskProfilesLoader;
 import edu.duke.starfish.profile.profiler.loaders.MRJobTransfersLoader;
 import edu.duke.starfish.profile.profiler.loaders.MRJobHistoryLoader;
+import edu.duke.starfish.profile.profiler.loaders.SysStatsLoader;
+import edu.duke.starfish.profile.utils.DaemonThreadFactory;
 
 /**
  * A manager for MR job log files. Given the location of the history, userlogs,
  * and profiles directories, this manager is responsible for parsing the files
  * and building the object representation for the different jobs and cluster
- * configurations.
+ * configurations. If the location of the monitoring files is also given, the
+ * manager provides the metrics of the hosts.
  * 
  * NOTE: The history files will completely populate the MRJobInfo objects. The
  * userlogs are used to get the data transfers and they might also contain the
  * profiles. Alternatively, the profiles could be located in their own
  * directory.
  * 
+ * The job summaries are cached in a summary index stored in the history
+ * directory, keyed by the job id and the modification time of the history
+ * file. Hence, only the history files of new or modified jobs need to be
+ * parsed when listing the jobs, and they are parsed in parallel. The history
+ * directory can be rescanned to pick up new jobs without reloading the
+ * existing ones (see {@link #rescanHistoryDirectory()}).
+ * 
  * @author hero
  */
 public class MRJobLogsManager implements IMRInfoManager {
@@ -57,9 +72,17 @@ public class MRJobLogsManager implements IMRInfoManager {
 	private Map<String, MRJobProfileLoader> jobProfiles; // The XML job profiles
 	private Map<String, MRTaskProfilesLoader> taskProfiles; // The task profiles
 	private Map<String, MRJobTransfersLoader> jobTransfers; // The job transfers
+	private SysStatsLoader sysStats; // The monitoring statistics
+
+	private Map<String, Long> historyTimes; // Mod times of the history files
+	private MRJobSummaryIndex summaryIndex; // The persistent job summaries
+	private List<MRJobInfo> sortedJobInfos; // Cached list of all job summaries
+	private int numThreads; // Number of threads for parsing the logs
 
 	// CONSTANTS
 	private static final String DOT_XML = ".xml";
+	private static final String SUMMARY_INDEX_FILE = ".starfish_job_summaries";
+	private static final String THREAD_NAME = "starfish-history-parser-";
 	private static final Pattern NAME_PATTERN = Pattern
 			.compile(".*(job_[0-9]+_[0-9]+)_.*");
 
@@ -76,6 +99,12 @@ public class MRJobLogsManager implements IMRInfoManager {
 		this.jobProfiles = new HashMap<String, MRJobProfileLoader>();
 		this.taskProfiles = new HashMap<String, MRTaskProfilesLoader>();
 		this.jobTransfers = new HashMap<String, MRJobTransfersLoader>();
+		this.sysStats = null;
+
+		this.historyTimes = new HashMap<String, Long>();
+		this.summaryIndex = null;
+		this.sortedJobInfos = null;
+		this.numThreads = Runtime.getRuntime().availableProcessors();
 	}
 
 	/* ***************************************************************
@@ -85,7 +114,8 @@ public class MRJobLogsManager implements IMRInfoManager {
 
 	/**
 	 * The results directory is generated during profiling and could contain the
-	 * sub-directories: history, job_profiles, task_profiles, and transfers.
+	 * sub-directories: history, job_profiles, task_profiles, transfers, and
+	 * monitor.
 	 * 
 	 * @param resultsDir
 	 *            the results directory to set
@@ -115,6 +145,10 @@ public class MRJobLogsManager implements IMRInfoManager {
 		File transfers = new File(resultsDir, "transfers");
 		if (transfers.exists())
 			setTransfersDir(transfers.getAbsolutePath());
+
+		File monitor = new File(resultsDir, "monitor");
+		if (monitor.exists())
+			setMonitorDir(monitor.getAbsolutePath());
 	}
 
 	/**
@@ -123,7 +157,10 @@ public class MRJobLogsManager implements IMRInfoManager {
 	 */
 	public void setHistoryDir(String historyDir) {
 		this.historyDir = historyDir;
-		readHistoryDirectory();
+		this.summaryIndex = new MRJobSummaryIndex(new File(historyDir,
+				SUMMARY_INDEX_FILE));
+		this.summaryIndex.load();
+		rescanHistoryDirectory();
 	}
 
 	/**
@@ -150,6 +187,23 @@ public class MRJobLogsManager implements IMRInfoManager {
 		this.transfersDir = transfersDir;
 	}
 
+	/**
+	 * @param monitorDir
+	 *            the directory with the iostat and vmstat files to set
+	 */
+	public void setMonitorDir(String monitorDir) {
+		this.sysStats = new SysStatsLoader(monitorDir);
+	}
+
+	/**
+	 * @param numThreads
+	 *            the number of threads to use for parsing the history files
+	 *            and the reducer syslogs
+	 */
+	public void setNumThreads(int numThreads) {
+		this.numThreads = (numThreads < 1) ? 1 : numThreads;
+	}
+
 	/* ***************************************************************
 	 * OVERRIDEN METHODS
 	 * ***************************************************************
@@ -157,10 +211,38 @@ public class MRJobLogsManager implements IMRInfoManager {
 
 	@Override
 	public List<MRJobInfo> getAllMRJobInfos() {
-		// Get all the jobs populated with their summaries
-		List<MRJobInfo> jobInfos = new ArrayList<MRJobInfo>();
-		for (MRJobHistoryLoader history : jobHistories.values()) {
-			jobInfos.add(history.getMRJobInfoWithSummary());
+		if (sortedJobInfos != null)
+			return new ArrayList<MRJobInfo>(sortedJobInfos);
+
+		// Get the job summaries from the index when possible
+		List<MRJobInfo> jobInfos = new ArrayList<MRJobInfo>(jobHistories
+				.size());
+		List<String> jobIdsToParse = new ArrayList<String>();
+		for (Map.Entry<String, MRJobHistoryLoader> entry : jobHistories
+				.entrySet()) {
+			MRJobInfo jobInfo = getIndexedSummary(entry.getKey(), entry
+					.getValue());
+			if (jobInfo != null)
+				jobInfos.add(jobInfo);
+			else
+				jobIdsToParse.add(entry.getKey());
+		}
+
+		// Parse the remaining history files and index their summaries
+		if (!jobIdsToParse.isEmpty()) {
+			List<MRJobInfo> parsed = parseSummaries(jobIdsToParse);
+			for (int i = 0; i < parsed.size(); ++i) {
+				String jobId = jobIdsToParse.get(i);
+				MRJobInfo jobInfo = parsed.get(i);
+				if (jobInfo != null) {
+					if (summaryIndex != null)
+						summaryIndex.putSummary(jobId, jobInfo, historyTimes
+								.get(jobId));
+					jobInfos.add(jobInfo);
+				}
+			}
+			if (summaryIndex != null)
+				summaryIndex.save();
 		}
 
 		// Sort based on their execution ids
@@ -170,7 +252,8 @@ public class MRJobLogsManager implements IMRInfoManager {
 			}
 		});
 
-		return jobInfos;
+		sortedJobInfos = jobInfos;
+		return new ArrayList<MRJobInfo>(sortedJobInfos);
 	}
 
 	@Override
@@ -189,10 +272,21 @@ public class MRJobLogsManager implements IMRInfoManager {
 
 	@Override
 	public MRJobInfo getMRJobInfo(String mrJobId) {
-		if (jobHistories.containsKey(mrJobId)) {
-			return jobHistories.get(mrJobId).getMRJobInfoWithSummary();
+		MRJobHistoryLoader history = jobHistories.get(mrJobId);
+		if (history == null)
+			return null;
+
+		MRJobInfo jobInfo = getIndexedSummary(mrJobId, history);
+		if (jobInfo == null) {
+			jobInfo = history.getMRJobInfoWithSummary();
+			if (jobInfo != null && summaryIndex != null) {
+				summaryIndex.putSummary(mrJobId, jobInfo, historyTimes
+						.get(mrJobId));
+				summaryIndex.save();
+			}
 		}
-		return null;
+
+		return jobInfo;
 	}
 
 	@Override
@@ -225,8 +319,18 @@ public class MRJobLogsManager implements IMRInfoManager {
 	@Override
 	public List<Metric> getHostMetrics(MetricType type, HostInfo host,
 			Date start, Date end) {
-		// We don't have such data
-		return null;
+		if (sysStats == null || host == null)
+			return null;
+
+		// The monitoring files are named after the host name or address
+		List<Metric> metrics = null;
+		if (host.getName() != null)
+			metrics = sysStats.getHostMetrics(type, host.getName(), start, end);
+		if (metrics == null && host.getIpAddress() != null)
+			metrics = sysStats.getHostMetrics(type, host.getIpAddress(), start,
+					end);
+
+		return metrics;
 	}
 
 	@Override
@@ -248,7 +352,7 @@ public class MRJobLogsManager implements IMRInfoManager {
 		// If this is the first time for this job, create the data transfer
 		if (!jobTransfers.containsKey(mrJob.getExecId())) {
 			jobTransfers.put(mrJob.getExecId(), new MRJobTransfersLoader(mrJob,
-					transfersDir));
+					transfersDir, numThreads));
 		}
 
 		// Return the data transfers
@@ -295,25 +399,29 @@ public class MRJobLogsManager implements IMRInfoManager {
 	}
 
 	/* ***************************************************************
-	 * PRIVATE METHODS
+	 * PUBLIC METHODS
 	 * ***************************************************************
 	 */
 
 	/**
-	 * Read the files in the history directory and populate the map with the job
-	 * histories. Note that the data in the files are not loaded at this time.
-	 * The data for each job will be loaded when the user asks to get a
-	 * particular job.
+	 * Scan the files in the history directory and populate the map with the
+	 * job histories of any new jobs, or of jobs whose history file has been
+	 * modified since the last scan. Note that the data in the files are not
+	 * loaded at this time. The data for each job will be loaded when the user
+	 * asks to get a particular job.
+	 * 
+	 * @return the ids of the new or modified jobs
 	 */
-	private void readHistoryDirectory() {
+	public List<String> rescanHistoryDirectory() {
+		List<String> jobIds = new ArrayList<String>();
 		if (historyDir == null)
-			return;
+			return jobIds;
 
 		// Check for a valid directory
 		File dir = new File(historyDir);
 		if (!dir.isDirectory()) {
 			System.err.println(dir.getAbsolutePath() + " is not a directory!");
-			return;
+			return jobIds;
 		}
 
 		// List all relevant files
@@ -323,6 +431,8 @@ public class MRJobLogsManager implements IMRInfoManager {
 						&& NAME_PATTERN.matcher(pathname.getName()).matches();
 			}
 		});
+		if (files == null)
+			return jobIds;
 
 		// Sort the files based on the filename
 		Arrays.sort(files);
@@ -347,14 +457,130 @@ public class MRJobLogsManager implements IMRInfoManager {
 				if (jobId1 != null && jobId2 != null
 						&& jobId1.equalsIgnoreCase(jobId2)) {
 					// Matchings job Ids => found a valid pair of files
-					jobHistories.put(jobId1,
-							new MRJobHistoryLoader(confFile.getAbsolutePath(),
-									statFile.getAbsolutePath()));
+					long modTime = statFile.lastModified();
+					Long prevModTime = historyTimes.get(jobId1);
+					if (prevModTime == null || prevModTime != modTime) {
+						addJobHistory(jobId1, confFile, statFile, modTime);
+						jobIds.add(jobId1);
+					}
 					confFile = null;
 					statFile = null;
 				}
 			}
 		}
+
+		if (!jobIds.isEmpty())
+			sortedJobInfos = null;
+		return jobIds;
+	}
+
+	/* ***************************************************************
+	 * PRIVATE METHODS
+	 * ***************************************************************
+	 */
+
+	/**
+	 * Add (or replace) the job history of a job and discard any data loaded
+	 * from the previous history of the job
+	 * 
+	 * @param jobId
+	 *            the job id
+	 * @param confFile
+	 *            the job configuration file
+	 * @param statFile
+	 *            the job statistics (history) file
+	 * @param modTime
+	 *            the modification time of the statistics file
+	 */
+	private void addJobHistory(String jobId, File confFile, File statFile,
+			long modTime) {
+		jobHistories.put(jobId, new MRJobHistoryLoader(confFile
+				.getAbsolutePath(), statFile.getAbsolutePath()));
+		historyTimes.put(jobId, modTime);
+
+		jobProfiles.remove(jobId);
+		taskProfiles.remove(jobId);
+		jobTransfers.remove(jobId);
+	}
+
+	/**
+	 * Populate the job history with the job summary from the summary index,
+	 * if the index contains a valid summary for the job
+	 * 
+	 * @param jobId
+	 *            the job id
+	 * @param history
+	 *            the job history
+	 * @return the job with the summary data, or null if it is not indexed
+	 */
+	private MRJobInfo getIndexedSummary(String jobId,
+			MRJobHistoryLoader history) {
+		if (history.isSummaryDataLoaded())
+			return history.getMRJobInfoWithSummary();
+		if (summaryIndex == null)
+			return null;
+
+		MRJobInfo summary = new MRJobInfo();
+		summary.setExecId(jobId);
+		if (!summaryIndex.getSummary(summary, historyTimes.get(jobId)))
+			return null;
+
+		history.setMRJobInfoSummary(summary);
+		return history.getMRJobInfoWithSummary();
+	}
+
+	/**
+	 * Parse the job summaries from the history files of the provided jobs,
+	 * using a bounded pool of threads.
+	 * 
+	 * @param jobIds
+	 *            the ids of the jobs to parse
+	 * @return the jobs with the summary data, in the same order as the ids
+	 *         (null for the jobs whose history files failed to parse)
+	 */
+	private List<MRJobInfo> parseSummaries(List<String> jobIds) {
+		List<MRJobInfo> jobInfos = new ArrayList<MRJobInfo>(jobIds.size());
+
+		int poolSize = Math.min(numThreads, jobIds.size());
+		if (poolSize <= 1) {
+			// No need for extra threads
+			for (String jobId : jobIds)
+				jobInfos.add(jobHistories.get(jobId).getMRJobInfoWithSummary());
+			return jobInfos;
+		}
+
+		// Each history loader is parsed by exactly one task
+		List<Callable<MRJobInfo>> tasks = new ArrayList<Callable<MRJobInfo>>(
+				jobIds.size());
+		for (String jobId : jobIds) {
+			final MRJobHistoryLoader history = jobHistories.get(jobId);
+			tasks.add(new Callable<MRJobInfo>() {
+				public MRJobInfo call() {
+					return history.getMRJobInfoWithSummary();
+				}
+			});
+		}
+
+		ExecutorService executor = Executors.newFixedThreadPool(poolSize,
+				new DaemonThreadFactory(THREAD_NAME));
+		try {
+			for (Future<MRJobInfo> future : executor.invokeAll(tasks))
+				jobInfos.add(future.get());
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new RuntimeException(
+					"ERROR: Interrupted while parsing the history files", e);
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof RuntimeException)
+				throw (RuntimeException) cause;
+			throw new RuntimeException(
+					"ERROR: Failed to parse the history files", cause);
+		} finally {
+			executor.shutdown();
+		}
+
+		return jobInfos;
 	}
 
 	/**
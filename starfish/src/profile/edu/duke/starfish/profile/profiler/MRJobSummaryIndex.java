@@ -0,0 +1,370 @@
+package edu.duke.starfish.profile.profiler;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+
+import edu.duke.starfish.profile.profileinfo.execution.MRExecutionStatus;
+import edu.duke.starfish.profile.profileinfo.execution.jobs.MRJobInfo;
+
+/**
+ * A persistent index with the summaries of the MR jobs (i.e., the job
+ * attributes without the task data) found in a history directory. Each
+ * summary is stored along with the last modification time of the job's
+ * history file, so that the summary is only used as long as the history file
+ * remains unchanged. Hence, the history files of the unchanged jobs do not
+ * need to be parsed again.
+ * 
+ * The index is stored in a text file with one tab-separated line per job.
+ * 
+ * @author hero
+ */
+public class MRJobSummaryIndex {
+
+	/* ***************************************************************
+	 * DATA MEMBERS
+	 * ***************************************************************
+	 */
+
+	private File indexFile; // The file that stores the index
+	private Map<String, IndexEntry> entries; // The summaries by job id
+	private boolean modified; // Whether the index has unsaved changes
+
+	// CONSTANTS
+	private static final String HEADER = "# Starfish job summary index v1";
+	private static final String NULL = "\\N";
+	private static final String UTF8 = "UTF-8";
+	private static final char TAB = '\t';
+	private static final int NUM_FIELDS = 8;
+
+	/**
+	 * Constructor
+	 * 
+	 * @param indexFile
+	 *            the file that stores the index
+	 */
+	public MRJobSummaryIndex(File indexFile) {
+		this.indexFile = indexFile;
+		this.entries = new HashMap<String, IndexEntry>();
+		this.modified = false;
+	}
+
+	/* ***************************************************************
+	 * PUBLIC METHODS
+	 * ***************************************************************
+	 */
+
+	/**
+	 * @return the file that stores the index
+	 */
+	public File getIndexFile() {
+		return indexFile;
+	}
+
+	/**
+	 * @return the number of job summaries in the index
+	 */
+	public int size() {
+		return entries.size();
+	}
+
+	/**
+	 * Populate the job with the indexed summary, if the summary is still valid
+	 * for the provided modification time of the job's history file.
+	 * 
+	 * @param mrJobInfo
+	 *            the job to populate (its id must be set)
+	 * @param lastModified
+	 *            the modification time of the job's history file
+	 * @return true if the job was populated
+	 */
+	public boolean getSummary(MRJobInfo mrJobInfo, long lastModified) {
+		IndexEntry entry = entries.get(mrJobInfo.getExecId());
+		if (entry == null || entry.lastModified != lastModified)
+			return false;
+
+		mrJobInfo.setName(entry.name);
+		mrJobInfo.setUser(entry.user);
+		mrJobInfo.setStartTime(entry.startTime == -1 ? null : new Date(
+				entry.startTime));
+		mrJobInfo.setEndTime(entry.endTime == -1 ? null : new Date(
+				entry.endTime));
+		mrJobInfo.setStatus(entry.status);
+		mrJobInfo.setErrorMsg(entry.errorMsg);
+		return true;
+	}
+
+	/**
+	 * Add or replace the summary of a job in the index
+	 * 
+	 * @param jobId
+	 *            the job id
+	 * @param mrJobInfo
+	 *            the job with the summary data
+	 * @param lastModified
+	 *            the modification time of the job's history file
+	 */
+	public void putSummary(String jobId, MRJobInfo mrJobInfo,
+			long lastModified) {
+		IndexEntry entry = new IndexEntry();
+		entry.lastModified = lastModified;
+		entry.name = mrJobInfo.getName();
+		entry.user = mrJobInfo.getUser();
+		entry.startTime = mrJobInfo.getStartTime() == null ? -1 : mrJobInfo
+				.getStartTime().getTime();
+		entry.endTime = mrJobInfo.getEndTime() == null ? -1 : mrJobInfo
+				.getEndTime().getTime();
+		entry.status = mrJobInfo.getStatus();
+		entry.errorMsg = mrJobInfo.getErrorMsg();
+
+		entries.put(jobId, entry);
+		modified = true;
+	}
+
+	/**
+	 * Load the index from the index file, if it exists. Lines that cannot be
+	 * parsed are ignored, since the corresponding jobs will simply be parsed
+	 * from their history files again.
+	 * 
+	 * @return true if the index file was read
+	 */
+	public boolean load() {
+		if (!indexFile.isFile())
+			return false;
+
+		BufferedReader br = null;
+		try {
+			br = new BufferedReader(new InputStreamReader(new FileInputStream(
+					indexFile), UTF8));
+			String line = br.readLine();
+			if (line == null || !line.equals(HEADER))
+				return false;
+
+			while ((line = br.readLine()) != null) {
+				String[] fields = split(line);
+				if (fields == null)
+					continue;
+
+				try {
+					IndexEntry entry = new IndexEntry();
+					entry.lastModified = Long.parseLong(fields[1]);
+					entry.name = unescape(fields[2]);
+					entry.user = unescape(fields[3]);
+					entry.startTime = Long.parseLong(fields[4]);
+					entry.endTime = Long.parseLong(fields[5]);
+					entry.status = fields[6].equals(NULL) ? null
+							: MRExecutionStatus.valueOf(fields[6]);
+					entry.errorMsg = unescape(fields[7]);
+					entries.put(fields[0], entry);
+				} catch (IllegalArgumentException e) {
+					// Ignore the invalid line
+				}
+			}
+		} catch (IOException e) {
+			System.err.println("Unable to read the job summary index "
+					+ indexFile.getAbsolutePath() + ": " + e.getMessage());
+			return false;
+		} finally {
+			try {
+				if (br != null)
+					br.close();
+			} catch (IOException e) {
+			}
+		}
+
+		modified = false;
+		return true;
+	}
+
+	/**
+	 * Save the index in the index file, if it has been modified since it was
+	 * loaded or last saved. The index is first written to a temporary file
+	 * that then replaces the index file, so that a failure will not corrupt
+	 * the existing index.
+	 * 
+	 * @return true if the index is saved
+	 */
+	public boolean save() {
+		if (!modified)
+			return true;
+
+		File tmpFile = new File(indexFile.getParentFile(), indexFile.getName()
+				+ ".tmp");
+		BufferedWriter bw = null;
+		try {
+			bw = new BufferedWriter(new OutputStreamWriter(
+					new FileOutputStream(tmpFile), UTF8));
+			bw.write(HEADER);
+			bw.newLine();
+
+			StringBuilder sb = new StringBuilder();
+			for (Map.Entry<String, IndexEntry> mapEntry : entries.entrySet()) {
+				IndexEntry entry = mapEntry.getValue();
+				sb.setLength(0);
+				sb.append(mapEntry.getKey()).append(TAB);
+				sb.append(entry.lastModified).append(TAB);
+				escape(sb, entry.name).append(TAB);
+				escape(sb, entry.user).append(TAB);
+				sb.append(entry.startTime).append(TAB);
+				sb.append(entry.endTime).append(TAB);
+				sb.append(entry.status == null ? NULL : entry.status.name())
+						.append(TAB);
+				escape(sb, entry.errorMsg);
+				bw.write(sb.toString());
+				bw.newLine();
+			}
+			bw.close();
+			bw = null;
+
+			// Replace the old index
+			if (indexFile.exists() && !indexFile.delete())
+				throw new IOException("Unable to replace " + indexFile);
+			if (!tmpFile.renameTo(indexFile))
+				throw new IOException("Unable to rename " + tmpFile);
+
+		} catch (IOException e) {
+			System.err.println("Unable to write the job summary index "
+					+ indexFile.getAbsolutePath() + ": " + e.getMessage());
+			tmpFile.delete();
+			return false;
+		} finally {
+			try {
+				if (bw != null)
+					bw.close();
+			} catch (IOException e) {
+			}
+		}
+
+		modified = false;
+		return true;
+	}
+
+	/* ***************************************************************
+	 * PRIVATE METHODS
+	 * ***************************************************************
+	 */
+
+	/**
+	 * Split a line of the index into its fields
+	 * 
+	 * @param line
+	 *            the line
+	 * @return the fields, or null if the line does not have all the fields
+	 */
+	private static String[] split(String line) {
+		String[] fields = new String[NUM_FIELDS];
+		int start = 0;
+		for (int i = 0; i < NUM_FIELDS - 1; ++i) {
+			int end = line.indexOf(TAB, start);
+			if (end == -1)
+				return null;
+			fields[i] = line.substring(start, end);
+			start = end + 1;
+		}
+
+		fields[NUM_FIELDS - 1] = line.substring(start);
+		return (fields[NUM_FIELDS - 1].indexOf(TAB) == -1) ? fields : null;
+	}
+
+	/**
+	 * Append the escaped value, so that it does not contain any tabs or new
+	 * lines
+	 * 
+	 * @param sb
+	 *            the string builder
+	 * @param value
+	 *            the value to escape (may be null)
+	 * @return the string builder
+	 */
+	private static StringBuilder escape(StringBuilder sb, String value) {
+		if (value == null)
+			return sb.append(NULL);
+
+		for (int i = 0; i < value.length(); ++i) {
+			char c = value.charAt(i);
+			switch (c) {
+			case '\\':
+				sb.append("\\\\");
+				break;
+			case '\t':
+				sb.append("\\t");
+				break;
+			case '\n':
+				sb.append("\\n");
+				break;
+			case '\r':
+				sb.append("\\r");
+				break;
+			default:
+				sb.append(c);
+			}
+		}
+		return sb;
+	}
+
+	/**
+	 * Reverse the escaping of a value
+	 * 
+	 * @param value
+	 *            the escaped value
+	 * @return the original value (may be null)
+	 */
+	private static String unescape(String value) {
+		if (value.equals(NULL))
+			return null;
+		if (value.indexOf('\\') == -1)
+			return value;
+
+		StringBuilder sb = new StringBuilder(value.length());
+		for (int i = 0; i < value.length(); ++i) {
+			char c = value.charAt(i);
+			if (c == '\\' && i + 1 < value.length()) {
+				c = value.charAt(++i);
+				switch (c) {
+				case 't':
+					c = '\t';
+					break;
+				case 'n':
+					c = '\n';
+					break;
+				case 'r':
+					c = '\r';
+					break;
+				default:
+					break;
+				}
+			}
+			sb.append(c);
+		}
+		return sb.toString();
+	}
+
+	/* ***************************************************************
+	 * PRIVATE CLASSES
+	 * ***************************************************************
+	 */
+
+	/**
+	 * The summary of a single job
+	 * 
+	 * @author hero
+	 */
+	private static class IndexEntry {
+		private long lastModified; // Modification time of the history file
+		private String name;
+		private String user;
+		private long startTime; // -1 for unknown
+		private long endTime; // -1 for unknown
+		private MRExecutionStatus status;
+		private String errorMsg;
+	}
+
+}
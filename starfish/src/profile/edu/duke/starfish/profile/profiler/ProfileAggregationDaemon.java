@@ -0,0 +1,579 @@
+package edu.duke.starfish.profile.profiler;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.FileFilter;
+import java.io.FileInputStream;
+import java.io.FileReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.hadoop.conf.Configuration;
+
+import edu.duke.starfish.profile.profileinfo.execution.profile.MRJobProfile;
+import edu.duke.starfish.profile.utils.DaemonThreadFactory;
+import edu.duke.starfish.profile.utils.XMLProfileParser;
+
+/**
+ * A long-running local service that aggregates the task profiles while the
+ * jobs are running, using a {@link ProfileAggregator}. The BTrace output of
+ * the tasks reaches the service in two ways:
+ * 
+ * <ol>
+ * <li>Over a socket on the loopback interface, using a simple line protocol
+ * (see below)</li>
+ * <li>Through a spool directory, where each complete BTrace output is placed
+ * in a file named &lt;attempt_id&gt;.profile and each job configuration in a
+ * file named &lt;job_id&gt;.xml. The files must be renamed into the
+ * directory after they are written. The service loads and deletes them
+ * periodically, the job configurations first.</li>
+ * </ol>
+ * 
+ * The socket protocol consists of text lines. Each request gets a response
+ * line that starts with "OK" or "ERROR":
+ * 
+ * <pre>
+ * PROFILE &lt;attempt_id&gt;   followed by the profile records of the attempt,
+ *                        up to a line "END" that completes the attempt.
+ *                        If the connection closes before the END line, the
+ *                        records are kept and a later PROFILE request for
+ *                        the same attempt continues them.
+ * CONF &lt;job_id&gt; &lt;n&gt;      followed by n characters with the XML
+ *                        configuration of the job, which registers the job
+ * JOBS                   responds with "OK &lt;n&gt;" and n lines of job ids
+ * JOB &lt;job_id&gt;           responds with "OK &lt;n&gt;" and n bytes with
+ *                        the current XML profile of the job
+ * REMOVE &lt;job_id&gt;        removes the job and its open attempts
+ * </pre>
+ * 
+ * Every minute, the service also evicts the stale attempts and jobs from the
+ * aggregator (see {@link ProfileAggregator#evictStale(long)}).
+ * 
+ * The {@link ProfileAggregatorClient} implements the protocol, so that the
+ * what-if engine and the job optimizer can use the current job profiles.
+ * 
+ * @author hero
+ */
+public class ProfileAggregationDaemon {
+
+	/* ***************************************************************
+	 * DATA MEMBERS
+	 * ***************************************************************
+	 */
+
+	private ProfileAggregator aggregator; // The profile aggregator
+	private int port; // The requested port (0 for any)
+	private File spoolDir; // The spool directory (null for none)
+	private long spoolInterval; // The spool polling interval in ms
+
+	private ServerSocket serverSocket; // The server socket
+	private ExecutorService connectionExecutor; // The connection handlers
+	private ScheduledExecutorService scheduledExecutor; // Spool and eviction
+	private volatile boolean running; // Whether the daemon is running
+
+	// Public constants
+	public static final String AGGREGATOR_PORT = "starfish.profiler.aggregator.port";
+	public static final String AGGREGATOR_SPOOL_DIR = "starfish.profiler.aggregator.spool.dir";
+	public static final String AGGREGATOR_SPOOL_INTERVAL = "starfish.profiler.aggregator.spool.interval";
+
+	public static final int DEF_PORT = 50095;
+	public static final long DEF_SPOOL_INTERVAL = 1000l;
+
+	// Protocol constants
+	static final String PROFILE = "PROFILE";
+	static final String CONF = "CONF";
+	static final String JOBS = "JOBS";
+	static final String JOB = "JOB";
+	static final String REMOVE = "REMOVE";
+	static final String END = "END";
+	static final String OK = "OK";
+	static final String ERROR = "ERROR";
+
+	private static final Log LOG = LogFactory
+			.getLog(ProfileAggregationDaemon.class);
+
+	private static final String THREAD_NAME = "starfish-profile-aggregator-";
+	private static final String DOT_PROFILE = ".profile";
+	private static final String DOT_XML = ".xml";
+	private static final String DOT_FAILED = ".failed";
+	private static final long EVICT_INTERVAL = 60000l;
+
+	/**
+	 * Constructor
+	 * 
+	 * @param conf
+	 *            the configuration with the daemon settings, which is also
+	 *            the default job configuration
+	 */
+	public ProfileAggregationDaemon(Configuration conf) {
+		this(new ProfileAggregator(conf), conf.getInt(AGGREGATOR_PORT,
+				DEF_PORT), conf.get(AGGREGATOR_SPOOL_DIR) == null ? null
+				: new File(conf.get(AGGREGATOR_SPOOL_DIR)), conf.getLong(
+				AGGREGATOR_SPOOL_INTERVAL, DEF_SPOOL_INTERVAL));
+	}
+
+	/**
+	 * Constructor
+	 * 
+	 * @param aggregator
+	 *            the profile aggregator
+	 * @param port
+	 *            the port to listen to (0 for any free port)
+	 * @param spoolDir
+	 *            the spool directory (null for none)
+	 * @param spoolInterval
+	 *            the spool polling interval in ms
+	 */
+	public ProfileAggregationDaemon(ProfileAggregator aggregator, int port,
+			File spoolDir, long spoolInterval) {
+		if (spoolInterval <= 0)
+			throw new RuntimeException("ERROR: The spool interval must be "
+					+ "positive: " + spoolInterval);
+
+		this.aggregator = aggregator;
+		this.port = port;
+		this.spoolDir = spoolDir;
+		this.spoolInterval = spoolInterval;
+		this.running = false;
+	}
+
+	/* ***************************************************************
+	 * PUBLIC METHODS
+	 * ***************************************************************
+	 */
+
+	/**
+	 * @return the profile aggregator
+	 */
+	public ProfileAggregator getAggregator() {
+		return aggregator;
+	}
+
+	/**
+	 * @return the port the daemon listens to (valid after it starts)
+	 */
+	public int getPort() {
+		return (serverSocket == null) ? port : serverSocket.getLocalPort();
+	}
+
+	/**
+	 * @return whether the daemon is running
+	 */
+	public boolean isRunning() {
+		return running;
+	}
+
+	/**
+	 * Start listening for connections and polling the spool directory
+	 * 
+	 * @throws IOException
+	 */
+	public synchronized void start() throws IOException {
+		if (running)
+			return;
+
+		if (spoolDir != null) {
+			spoolDir.mkdirs();
+			if (!spoolDir.isDirectory())
+				throw new IOException("Not a valid directory " + spoolDir);
+		}
+
+		serverSocket = new ServerSocket(port, 50, InetAddress
+				.getByName("127.0.0.1"));
+		connectionExecutor = Executors
+				.newCachedThreadPool(new DaemonThreadFactory(THREAD_NAME));
+		running = true;
+
+		// Accept the connections
+		connectionExecutor.execute(new Runnable() {
+			public void run() {
+				acceptConnections();
+			}
+		});
+
+		// Poll the spool directory and evict the stale attempts and jobs
+		scheduledExecutor = Executors
+				.newSingleThreadScheduledExecutor(new DaemonThreadFactory(
+						THREAD_NAME));
+		if (spoolDir != null) {
+			scheduledExecutor.scheduleWithFixedDelay(new Runnable() {
+				public void run() {
+					processSpoolDir();
+				}
+			}, 0, spoolInterval, TimeUnit.MILLISECONDS);
+		}
+		scheduledExecutor.scheduleWithFixedDelay(new Runnable() {
+			public void run() {
+				aggregator.evictStale(System.currentTimeMillis());
+			}
+		}, EVICT_INTERVAL, EVICT_INTERVAL, TimeUnit.MILLISECONDS);
+
+		LOG.info("Profile aggregator listening on port " + getPort());
+		if (spoolDir != null)
+			LOG.info("Profile aggregator polling the spool directory "
+					+ spoolDir);
+	}
+
+	/**
+	 * Stop the daemon. The aggregated profiles remain in the aggregator.
+	 */
+	public synchronized void stop() {
+		if (!running)
+			return;
+
+		running = false;
+		try {
+			serverSocket.close();
+		} catch (IOException e) {
+			LOG.warn("Unable to close the server socket", e);
+		}
+		connectionExecutor.shutdownNow();
+		scheduledExecutor.shutdownNow();
+	}
+
+	/**
+	 * Register the job configurations and then load the profile files in the
+	 * spool directory, deleting them. The files that fail to load are renamed
+	 * with a ".failed" suffix.
+	 * 
+	 * @return the number of task profiles loaded
+	 */
+	public int processSpoolDir() {
+		if (spoolDir == null)
+			return 0;
+
+		File[] confFiles = listSpoolFiles(DOT_XML);
+		if (confFiles != null) {
+			for (File file : confFiles) {
+				String name = file.getName();
+				String jobId = name.substring(0, name.length()
+						- DOT_XML.length());
+
+				boolean success = false;
+				try {
+					aggregator.registerJob(jobId, readConf(file));
+					success = true;
+				} catch (IOException e) {
+					LOG.warn("Unable to read the configuration file " + file,
+							e);
+				} catch (RuntimeException e) {
+					LOG.warn("Invalid configuration file " + file, e);
+				}
+
+				if (success)
+					file.delete();
+				else
+					file.renameTo(new File(spoolDir, name + DOT_FAILED));
+			}
+		}
+
+		File[] files = listSpoolFiles(DOT_PROFILE);
+		if (files == null)
+			return 0;
+
+		int numLoaded = 0;
+		for (File file : files) {
+			String name = file.getName();
+			String attemptId = name.substring(0, name.length()
+					- DOT_PROFILE.length());
+
+			boolean success = false;
+			try {
+				success = aggregator.addAttemptProfile(attemptId,
+						new FileReader(file));
+			} catch (IOException e) {
+				LOG.warn("Unable to read the profile file " + file, e);
+			}
+
+			if (success) {
+				++numLoaded;
+				file.delete();
+			} else {
+				file.renameTo(new File(spoolDir, name + DOT_FAILED));
+			}
+		}
+
+		return numLoaded;
+	}
+
+	/* ***************************************************************
+	 * PRIVATE METHODS
+	 * ***************************************************************
+	 */
+
+	/**
+	 * @param suffix
+	 *            the file name suffix
+	 * @return the files in the spool directory with the suffix (null on
+	 *         error)
+	 */
+	private File[] listSpoolFiles(final String suffix) {
+		return spoolDir.listFiles(new FileFilter() {
+			public boolean accept(File file) {
+				return file.isFile() && file.getName().endsWith(suffix);
+			}
+		});
+	}
+
+	/**
+	 * Accept the connections until the daemon stops
+	 */
+	private void acceptConnections() {
+		while (running) {
+			try {
+				final Socket socket = serverSocket.accept();
+				connectionExecutor.execute(new Runnable() {
+					public void run() {
+						handleConnection(socket);
+					}
+				});
+			} catch (SocketException e) {
+				// The server socket was closed
+			} catch (IOException e) {
+				if (running)
+					LOG.warn("Unable to accept a connection", e);
+			}
+		}
+	}
+
+	/**
+	 * Serve the requests of a connection until the client closes it
+	 * 
+	 * @param socket
+	 *            the client socket
+	 */
+	private void handleConnection(Socket socket) {
+		try {
+			BufferedReader in = new BufferedReader(new InputStreamReader(
+					socket.getInputStream(), "UTF-8"));
+			OutputStream out = socket.getOutputStream();
+
+			String line = null;
+			while ((line = in.readLine()) != null) {
+				if (line.startsWith(PROFILE + " ")) {
+					String attemptId = line.substring(PROFILE.length() + 1)
+							.trim();
+					if (receiveProfile(attemptId, in))
+						respond(out, OK, null);
+					else
+						respond(out, ERROR + " Unable to load the profile of "
+								+ attemptId, null);
+				} else if (line.startsWith(CONF + " ")) {
+					String[] pieces = line.substring(CONF.length() + 1).trim()
+							.split(" +");
+					if (receiveConf(pieces, in))
+						respond(out, OK, null);
+					else
+						respond(out, ERROR + " Invalid configuration request: "
+								+ line, null);
+				} else if (line.equals(JOBS)) {
+					StringBuilder sb = new StringBuilder();
+					List<String> jobIds = aggregator.getJobIds();
+					for (String jobId : jobIds)
+						sb.append(jobId).append('\n');
+					respond(out, OK + " " + jobIds.size(), sb.toString()
+							.getBytes("UTF-8"));
+				} else if (line.startsWith(JOB + " ")) {
+					String jobId = line.substring(JOB.length() + 1).trim();
+					MRJobProfile profile = aggregator.getJobProfile(jobId);
+					if (profile == null) {
+						respond(out, ERROR + " No profile for " + jobId, null);
+					} else {
+						ByteArrayOutputStream xml = new ByteArrayOutputStream();
+						PrintStream ps = new PrintStream(xml, false, "UTF-8");
+						XMLProfileParser.exportJobProfile(profile, ps);
+						ps.flush();
+						respond(out, OK + " " + xml.size(), xml.toByteArray());
+					}
+				} else if (line.startsWith(REMOVE + " ")) {
+					aggregator.removeJob(line.substring(REMOVE.length() + 1)
+							.trim());
+					respond(out, OK, null);
+				} else if (line.length() > 0) {
+					respond(out, ERROR + " Unknown request: " + line, null);
+				}
+			}
+		} catch (IOException e) {
+			if (running)
+				LOG.debug("Connection closed: " + e.getMessage());
+		} finally {
+			try {
+				socket.close();
+			} catch (IOException e) {
+			}
+		}
+	}
+
+	/**
+	 * Receive the profile records of a task attempt up to the END line
+	 * 
+	 * @param attemptId
+	 *            the attempt id
+	 * @param in
+	 *            the input from the client
+	 * @return true if the attempt completed and its profile was loaded
+	 * @throws IOException
+	 */
+	private boolean receiveProfile(String attemptId, BufferedReader in)
+			throws IOException {
+		String line = null;
+		while ((line = in.readLine()) != null) {
+			if (line.equals(END))
+				return aggregator.completeAttempt(attemptId);
+			aggregator.addRecord(attemptId, line);
+		}
+
+		// The connection closed before the attempt completed
+		throw new IOException("Incomplete profile for " + attemptId);
+	}
+
+	/**
+	 * Receive the XML configuration of a job and register the job
+	 * 
+	 * @param pieces
+	 *            the arguments of the request: the job id and the number of
+	 *            characters in the configuration
+	 * @param in
+	 *            the input from the client
+	 * @return true if the job was registered
+	 * @throws IOException
+	 */
+	private boolean receiveConf(String[] pieces, BufferedReader in)
+			throws IOException {
+		if (pieces.length != 2)
+			return false;
+
+		int length;
+		try {
+			length = Integer.parseInt(pieces[1]);
+		} catch (NumberFormatException e) {
+			return false;
+		}
+		if (length < 0)
+			return false;
+
+		// Read the configuration even if it is invalid, to stay in sync
+		char[] xml = new char[length];
+		int offset = 0;
+		while (offset < length) {
+			int read = in.read(xml, offset, length - offset);
+			if (read == -1)
+				throw new IOException("Incomplete configuration for "
+						+ pieces[0]);
+			offset += read;
+		}
+
+		try {
+			aggregator.registerJob(pieces[0], parseConf(new String(xml)
+					.getBytes("UTF-8")));
+			return true;
+		} catch (RuntimeException e) {
+			LOG.warn("Invalid configuration for " + pieces[0], e);
+			return false;
+		}
+	}
+
+	/**
+	 * Send a response line and an optional payload
+	 * 
+	 * @param out
+	 *            the output to the client
+	 * @param status
+	 *            the response line
+	 * @param payload
+	 *            the payload (may be null)
+	 * @throws IOException
+	 */
+	private void respond(OutputStream out, String status, byte[] payload)
+			throws IOException {
+		out.write((status + "\n").getBytes("UTF-8"));
+		if (payload != null)
+			out.write(payload);
+		out.flush();
+	}
+
+	/* ***************************************************************
+	 * PRIVATE STATIC METHODS
+	 * ***************************************************************
+	 */
+
+	/**
+	 * @param file
+	 *            an XML configuration file
+	 * @return the configuration (without the default resources)
+	 * @throws IOException
+	 */
+	private static Configuration readConf(File file) throws IOException {
+		byte[] xml = new byte[(int) file.length()];
+		DataInputStream in = new DataInputStream(new FileInputStream(file));
+		try {
+			in.readFully(xml);
+		} finally {
+			in.close();
+		}
+		return parseConf(xml);
+	}
+
+	/**
+	 * @param xml
+	 *            the bytes of an XML configuration
+	 * @return the configuration (without the default resources)
+	 * @throws RuntimeException
+	 *             if the XML is not a valid configuration
+	 */
+	private static Configuration parseConf(byte[] xml) {
+		Configuration conf = new Configuration(false);
+		conf.addResource(new ByteArrayInputStream(xml));
+		conf.size(); // The resources are parsed lazily
+		return conf;
+	}
+
+	/* ***************************************************************
+	 * PUBLIC STATIC METHODS
+	 * ***************************************************************
+	 */
+
+	/**
+	 * Run the profile aggregation daemon until the process is killed. The
+	 * settings are read from the Hadoop configuration and the system
+	 * properties.
+	 * 
+	 * @param args
+	 *            not used
+	 * @throws Exception
+	 */
+	public static void main(String[] args) throws Exception {
+		Configuration conf = new Configuration();
+		Profiler.loadCommonSystemProperties(conf);
+		String[] props = { AGGREGATOR_PORT, AGGREGATOR_SPOOL_DIR,
+				AGGREGATOR_SPOOL_INTERVAL,
+				ProfileAggregator.AGGREGATOR_ATTEMPT_TIMEOUT,
+				ProfileAggregator.AGGREGATOR_JOB_RETENTION };
+		for (String prop : props) {
+			if (conf.get(prop) == null && System.getProperty(prop) != null)
+				conf.set(prop, System.getProperty(prop));
+		}
+
+		ProfileAggregationDaemon daemon = new ProfileAggregationDaemon(conf);
+		daemon.start();
+		while (daemon.isRunning())
+			Thread.sleep(60000l);
+	}
+
+}
@@ -0,0 +1,442 @@
+package edu.duke.starfish.profile.profiler;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.hadoop.conf.Configuration;
+
+import edu.duke.starfish.profile.profileinfo.execution.profile.MRJobProfile;
+import edu.duke.starfish.profile.profileinfo.execution.profile.MRMapProfile;
+import edu.duke.starfish.profile.profileinfo.execution.profile.MRReduceProfile;
+import edu.duke.starfish.profile.profileinfo.execution.profile.MRTaskProfile;
+import edu.duke.starfish.profile.profileinfo.execution.profile.enums.MRCounter;
+import edu.duke.starfish.profile.profiler.loaders.tasks.MRMapProfileLoader;
+import edu.duke.starfish.profile.profiler.loaders.tasks.MRReduceProfileLoader;
+import edu.duke.starfish.profile.utils.ProfileUtils;
+
+/**
+ * Aggregates the BTrace output of the task attempts into job profiles while
+ * the jobs are running, instead of collecting the profile files after the
+ * jobs complete.
+ * 
+ * The profile records of each attempt are buffered as they arrive. When an
+ * attempt completes, its records are loaded into a task profile using the
+ * same loaders as the profile files, and the task profile is folded into the
+ * profile of its job. The job profile is re-aggregated only when it is
+ * requested after some task profiles were added.
+ * 
+ * The BTraceTaskProfile script reports the Hadoop counters of each attempt
+ * with records of the form &lt;COUNTER TAB counter_name TAB value&gt;, which
+ * the loaders need for calculating the per-record costs. The configuration of
+ * each job should be registered before its attempts complete (the
+ * BTraceJobProfiler script does that when the job is submitted); otherwise,
+ * the default configuration is used.
+ * 
+ * The aggregator keeps the state of each job until it is removed or evicted.
+ * {@link #evictStale(long)} drops the attempts that have not received any
+ * records for "starfish.profiler.aggregator.attempt.timeout" ms (e.g.,
+ * failed or killed attempts) and the jobs that have not been updated for
+ * "starfish.profiler.aggregator.job.retention" ms.
+ * 
+ * All the methods are thread-safe.
+ * 
+ * @author hero
+ */
+public class ProfileAggregator {
+
+	/* ***************************************************************
+	 * DATA MEMBERS
+	 * ***************************************************************
+	 */
+
+	private Configuration conf; // The default job configuration
+	private Map<String, JobState> jobs; // The job states, by job id
+	private Map<String, AttemptState> attempts; // The open attempts, by id
+	private long attemptTimeout; // The timeout of the open attempts in ms
+	private long jobRetention; // The retention of the idle jobs in ms
+
+	// Public constants
+	public static final String AGGREGATOR_ATTEMPT_TIMEOUT = "starfish.profiler.aggregator.attempt.timeout";
+	public static final String AGGREGATOR_JOB_RETENTION = "starfish.profiler.aggregator.job.retention";
+
+	public static final long DEF_ATTEMPT_TIMEOUT = 3600000l; // 1 hour
+	public static final long DEF_JOB_RETENTION = 86400000l; // 1 day
+
+	private static final Log LOG = LogFactory.getLog(ProfileAggregator.class);
+
+	private static final Pattern ATTEMPT_PATTERN = Pattern
+			.compile("attempt_([0-9]+_[0-9]+)_([mr])_[0-9]+_[0-9]+");
+
+	/**
+	 * Constructor
+	 * 
+	 * @param conf
+	 *            the configuration for the jobs that are not registered, which
+	 *            also sets the eviction timeouts
+	 */
+	public ProfileAggregator(Configuration conf) {
+		this.conf = conf;
+		this.jobs = new LinkedHashMap<String, JobState>();
+		this.attempts = new HashMap<String, AttemptState>();
+		this.attemptTimeout = conf.getLong(AGGREGATOR_ATTEMPT_TIMEOUT,
+				DEF_ATTEMPT_TIMEOUT);
+		this.jobRetention = conf.getLong(AGGREGATOR_JOB_RETENTION,
+				DEF_JOB_RETENTION);
+	}
+
+	/* ***************************************************************
+	 * PUBLIC METHODS
+	 * ***************************************************************
+	 */
+
+	/**
+	 * Register the configuration of a job, which the loaders use to interpret
+	 * the task profiles (e.g., for the compression or the number of
+	 * reducers). The task profiles that were already loaded are not affected.
+	 * 
+	 * @param jobId
+	 *            the job id
+	 * @param jobConf
+	 *            the job configuration
+	 */
+	public synchronized void registerJob(String jobId, Configuration jobConf) {
+		JobState job = getJobState(jobId);
+		job.conf = jobConf;
+		job.lastUpdate = System.currentTimeMillis();
+	}
+
+	/**
+	 * Add a profile record (one line of the BTrace output) of a task attempt
+	 * that is still running
+	 * 
+	 * @param attemptId
+	 *            the task attempt id
+	 * @param record
+	 *            the profile record
+	 */
+	public synchronized void addRecord(String attemptId, String record) {
+		AttemptState attempt = attempts.get(attemptId);
+		if (attempt == null) {
+			attempt = new AttemptState(attemptId);
+			attempts.put(attemptId, attempt);
+		}
+
+		attempt.records.append(record).append('\n');
+		attempt.lastUpdate = System.currentTimeMillis();
+	}
+
+	/**
+	 * Add all the profile records of a task attempt and complete the attempt
+	 * 
+	 * @param attemptId
+	 *            the task attempt id
+	 * @param reader
+	 *            the reader with the profile records (closed at the end)
+	 * @return true if the task profile was loaded successfully
+	 * @throws IOException
+	 */
+	public boolean addAttemptProfile(String attemptId, Reader reader)
+			throws IOException {
+		BufferedReader input = new BufferedReader(reader);
+		try {
+			String line = null;
+			while ((line = input.readLine()) != null)
+				addRecord(attemptId, line);
+		} finally {
+			input.close();
+		}
+
+		return completeAttempt(attemptId);
+	}
+
+	/**
+	 * Complete a task attempt: load its task profile from the records added
+	 * so far and fold it into the profile of its job. A completed attempt
+	 * that is added again replaces its previous task profile.
+	 * 
+	 * @param attemptId
+	 *            the task attempt id
+	 * @return true if the task profile was loaded successfully
+	 */
+	public boolean completeAttempt(String attemptId) {
+		AttemptState attempt;
+		Configuration jobConf;
+		synchronized (this) {
+			attempt = attempts.remove(attemptId);
+			if (attempt == null || attempt.jobId == null) {
+				LOG.warn("Unable to complete the attempt " + attemptId);
+				return false;
+			}
+			jobConf = getJobState(attempt.jobId).conf;
+		}
+
+		// Load the task profile outside the lock
+		MRTaskProfile taskProfile;
+		boolean success;
+		Reader reader = new StringReader(attempt.records.toString());
+		if (attempt.isMap) {
+			MRMapProfile mapProfile = new MRMapProfile(attemptId);
+			MRMapProfileLoader loader = new MRMapProfileLoader(mapProfile,
+					jobConf, null);
+			success = loader.loadExecutionProfile(mapProfile, reader);
+			taskProfile = mapProfile;
+		} else {
+			MRReduceProfile redProfile = new MRReduceProfile(attemptId);
+			MRReduceProfileLoader loader = new MRReduceProfileLoader(
+					redProfile, jobConf, null);
+			success = loader.loadExecutionProfile(redProfile, reader);
+			taskProfile = redProfile;
+		}
+
+		if (!success) {
+			LOG.warn("Unable to load the profile of " + attemptId);
+			return false;
+		}
+
+		// Fold the task profile into the job
+		synchronized (this) {
+			JobState job = getJobState(attempt.jobId);
+			if (attempt.isMap)
+				job.mapProfiles.put(attemptId, (MRMapProfile) taskProfile);
+			else
+				job.reduceProfiles.put(attemptId,
+						(MRReduceProfile) taskProfile);
+			job.profile = null;
+			job.lastUpdate = System.currentTimeMillis();
+		}
+
+		return true;
+	}
+
+	/**
+	 * @return the ids of the jobs with at least one task profile
+	 */
+	public synchronized List<String> getJobIds() {
+		List<String> jobIds = new ArrayList<String>(jobs.size());
+		for (Map.Entry<String, JobState> entry : jobs.entrySet()) {
+			if (!entry.getValue().isEmpty())
+				jobIds.add(entry.getKey());
+		}
+		return jobIds;
+	}
+
+	/**
+	 * Get the current profile of a job, aggregated from the task profiles of
+	 * the attempts that have completed so far
+	 * 
+	 * @param jobId
+	 *            the job id
+	 * @return a copy of the job profile, or null if the job has no task
+	 *         profiles yet
+	 */
+	public synchronized MRJobProfile getJobProfile(String jobId) {
+		JobState job = jobs.get(jobId);
+		if (job == null || job.isEmpty())
+			return null;
+
+		if (job.profile == null)
+			job.profile = job.buildProfile(jobId);
+		return new MRJobProfile(job.profile);
+	}
+
+	/**
+	 * @return the number of attempts that have not completed yet
+	 */
+	public synchronized int getNumOpenAttempts() {
+		return attempts.size();
+	}
+
+	/**
+	 * Remove a job and the open attempts of the job
+	 * 
+	 * @param jobId
+	 *            the job id
+	 */
+	public synchronized void removeJob(String jobId) {
+		jobs.remove(jobId);
+		List<String> jobAttempts = new ArrayList<String>();
+		for (AttemptState attempt : attempts.values()) {
+			if (jobId.equals(attempt.jobId))
+				jobAttempts.add(attempt.attemptId);
+		}
+		for (String attemptId : jobAttempts)
+			attempts.remove(attemptId);
+	}
+
+	/**
+	 * Evict the open attempts that have not received any records within the
+	 * attempt timeout, and the jobs without open attempts that have not been
+	 * registered or updated within the job retention
+	 * 
+	 * @param now
+	 *            the current time in ms
+	 * @return the number of attempts and jobs evicted
+	 */
+	public synchronized int evictStale(long now) {
+		int numEvicted = 0;
+
+		Iterator<AttemptState> attemptIter = attempts.values().iterator();
+		while (attemptIter.hasNext()) {
+			AttemptState attempt = attemptIter.next();
+			if (now - attempt.lastUpdate > attemptTimeout) {
+				LOG.info("Evicting the stale attempt " + attempt.attemptId);
+				attemptIter.remove();
+				++numEvicted;
+			}
+		}
+
+		Set<String> openJobIds = new HashSet<String>();
+		for (AttemptState attempt : attempts.values())
+			openJobIds.add(attempt.jobId);
+
+		Iterator<Map.Entry<String, JobState>> jobIter = jobs.entrySet()
+				.iterator();
+		while (jobIter.hasNext()) {
+			Map.Entry<String, JobState> entry = jobIter.next();
+			if (now - entry.getValue().lastUpdate > jobRetention
+					&& !openJobIds.contains(entry.getKey())) {
+				LOG.info("Evicting the job " + entry.getKey());
+				jobIter.remove();
+				++numEvicted;
+			}
+		}
+
+		return numEvicted;
+	}
+
+	/* ***************************************************************
+	 * PRIVATE METHODS
+	 * ***************************************************************
+	 */
+
+	/**
+	 * @param jobId
+	 *            the job id
+	 * @return the job state (created if it does not exist)
+	 */
+	private JobState getJobState(String jobId) {
+		JobState job = jobs.get(jobId);
+		if (job == null) {
+			job = new JobState(conf);
+			jobs.put(jobId, job);
+		}
+		return job;
+	}
+
+	/* ***************************************************************
+	 * PRIVATE CLASSES
+	 * ***************************************************************
+	 */
+
+	/**
+	 * The records of a task attempt that has not completed yet
+	 * 
+	 * @author hero
+	 */
+	private static class AttemptState {
+
+		private String attemptId; // The attempt id
+		private String jobId; // The job id (null for invalid attempt ids)
+		private boolean isMap; // Whether the attempt is a map attempt
+		private StringBuilder records; // The BTrace profile records
+		private long lastUpdate; // The time of the last record in ms
+
+		/**
+		 * @param attemptId
+		 *            the attempt id
+		 */
+		public AttemptState(String attemptId) {
+			this.attemptId = attemptId;
+			this.records = new StringBuilder();
+			this.lastUpdate = System.currentTimeMillis();
+
+			Matcher matcher = ATTEMPT_PATTERN.matcher(attemptId);
+			if (matcher.matches()) {
+				this.jobId = "job_" + matcher.group(1);
+				this.isMap = matcher.group(2).equals("m");
+			} else {
+				this.jobId = null;
+				this.isMap = false;
+			}
+		}
+	}
+
+	/**
+	 * The task profiles of a job
+	 * 
+	 * @author hero
+	 */
+	private static class JobState {
+
+		private Configuration conf; // The job configuration
+		private Map<String, MRMapProfile> mapProfiles; // By attempt id
+		private Map<String, MRReduceProfile> reduceProfiles; // By attempt id
+		private MRJobProfile profile; // The cached job profile (or null)
+		private long lastUpdate; // The time of the last update in ms
+
+		/**
+		 * @param conf
+		 *            the job configuration
+		 */
+		public JobState(Configuration conf) {
+			this.conf = conf;
+			this.mapProfiles = new LinkedHashMap<String, MRMapProfile>();
+			this.reduceProfiles = new LinkedHashMap<String, MRReduceProfile>();
+			this.profile = null;
+			this.lastUpdate = System.currentTimeMillis();
+		}
+
+		/**
+		 * @return true if the job has no task profiles
+		 */
+		public boolean isEmpty() {
+			return mapProfiles.isEmpty() && reduceProfiles.isEmpty();
+		}
+
+		/**
+		 * Aggregate the task profiles into a job profile, like the
+		 * MRTaskProfilesLoader does for the profile files
+		 * 
+		 * @param jobId
+		 *            the job id
+		 * @return the job profile
+		 */
+		public MRJobProfile buildProfile(String jobId) {
+			MRJobProfile jobProfile = new MRJobProfile(jobId);
+			for (MRMapProfile mapProfile : mapProfiles.values())
+				jobProfile.addMapProfile(mapProfile);
+			for (MRReduceProfile redProfile : reduceProfiles.values())
+				jobProfile.addReduceProfile(redProfile);
+
+			jobProfile.setJobInputs(ProfileUtils.getInputDirs(conf));
+			jobProfile.updateProfile();
+
+			// Set the number of map and reduce tasks profiled so far
+			jobProfile.addCounter(MRCounter.MAP_TASKS, (long) mapProfiles
+					.size());
+			jobProfile.addCounter(MRCounter.REDUCE_TASKS,
+					(long) reduceProfiles.size());
+
+			String clusterName = conf.get(Profiler.PROFILER_CLUSTER_NAME);
+			if (clusterName != null)
+				jobProfile.setClusterName(clusterName);
+
+			return jobProfile;
+		}
+	}
+
+}
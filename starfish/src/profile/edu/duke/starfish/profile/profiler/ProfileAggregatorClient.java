@@ -0,0 +1,348 @@
+package edu.duke.starfish.profile.profiler;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.hadoop.conf.Configuration;
+
+import edu.duke.starfish.profile.profileinfo.execution.profile.MRJobProfile;
+import edu.duke.starfish.profile.utils.XMLProfileParser;
+
+/**
+ * A client for the {@link ProfileAggregationDaemon}. It can send the profile
+ * records of task attempts to the daemon and retrieve the current job
+ * profiles. Each request uses a new connection.
+ * 
+ * The job profiles of a daemon can be named with locations of the form
+ * aggregator://host:port/job_id, which the what-if engine and the job
+ * optimizer accept wherever they accept a job profile file.
+ * 
+ * {@link #registerJob(Configuration, String)} registers the configuration of
+ * a submitted job with the daemon, through its spool directory or its port.
+ * 
+ * @author hero
+ */
+public class ProfileAggregatorClient {
+
+	/* ***************************************************************
+	 * DATA MEMBERS
+	 * ***************************************************************
+	 */
+
+	private String host; // The daemon host
+	private int port; // The daemon port
+
+	// Public constants
+	public static final String AGGREGATOR_SCHEME = "aggregator://";
+
+	/**
+	 * Constructor
+	 * 
+	 * @param host
+	 *            the daemon host
+	 * @param port
+	 *            the daemon port
+	 */
+	public ProfileAggregatorClient(String host, int port) {
+		this.host = host;
+		this.port = port;
+	}
+
+	/* ***************************************************************
+	 * PUBLIC METHODS
+	 * ***************************************************************
+	 */
+
+	/**
+	 * @return the ids of the jobs with at least one task profile
+	 * @throws IOException
+	 */
+	public List<String> getJobIds() throws IOException {
+		Socket socket = new Socket(host, port);
+		try {
+			DataInputStream in = sendRequest(socket,
+					ProfileAggregationDaemon.JOBS);
+			int count = readStatus(in);
+
+			List<String> jobIds = new ArrayList<String>(count);
+			for (int i = 0; i < count; ++i)
+				jobIds.add(readLine(in));
+			return jobIds;
+		} finally {
+			socket.close();
+		}
+	}
+
+	/**
+	 * Get the current profile of a job
+	 * 
+	 * @param jobId
+	 *            the job id
+	 * @return the job profile
+	 * @throws IOException
+	 *             if the daemon is not reachable or has no profile for the job
+	 */
+	public MRJobProfile getJobProfile(String jobId) throws IOException {
+		Socket socket = new Socket(host, port);
+		try {
+			DataInputStream in = sendRequest(socket,
+					ProfileAggregationDaemon.JOB + " " + jobId);
+			byte[] xml = new byte[readStatus(in)];
+			in.readFully(xml);
+			return XMLProfileParser
+					.importJobProfile(new ByteArrayInputStream(xml));
+		} finally {
+			socket.close();
+		}
+	}
+
+	/**
+	 * Register the configuration of a job with the daemon
+	 * 
+	 * @param jobId
+	 *            the job id
+	 * @param conf
+	 *            the job configuration
+	 * @throws IOException
+	 *             if the daemon is not reachable or rejects the configuration
+	 */
+	public void sendJobConf(String jobId, Configuration conf)
+			throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		conf.writeXml(bytes);
+		String xml = bytes.toString("UTF-8");
+
+		Socket socket = new Socket(host, port);
+		try {
+			readStatus(sendRequest(socket, ProfileAggregationDaemon.CONF + " "
+					+ jobId + " " + xml.length() + "\n" + xml));
+		} finally {
+			socket.close();
+		}
+	}
+
+	/**
+	 * Remove a job and its open attempts from the daemon
+	 * 
+	 * @param jobId
+	 *            the job id
+	 * @throws IOException
+	 *             if the daemon is not reachable
+	 */
+	public void removeJob(String jobId) throws IOException {
+		Socket socket = new Socket(host, port);
+		try {
+			readStatus(sendRequest(socket, ProfileAggregationDaemon.REMOVE
+					+ " " + jobId));
+		} finally {
+			socket.close();
+		}
+	}
+
+	/**
+	 * Send all the profile records of a task attempt to the daemon and
+	 * complete the attempt
+	 * 
+	 * @param attemptId
+	 *            the task attempt id
+	 * @param reader
+	 *            the reader with the profile records (closed at the end)
+	 * @throws IOException
+	 *             if the daemon is not reachable or fails to load the profile
+	 */
+	public void sendProfile(String attemptId, Reader reader)
+			throws IOException {
+		Socket socket = new Socket(host, port);
+		BufferedReader input = new BufferedReader(reader);
+		try {
+			StringBuilder sb = new StringBuilder();
+			sb.append(ProfileAggregationDaemon.PROFILE).append(' ').append(
+					attemptId).append('\n');
+			String line = null;
+			while ((line = input.readLine()) != null) {
+				if (!line.equals(ProfileAggregationDaemon.END))
+					sb.append(line).append('\n');
+			}
+			sb.append(ProfileAggregationDaemon.END);
+
+			readStatus(sendRequest(socket, sb.toString()));
+		} finally {
+			input.close();
+			socket.close();
+		}
+	}
+
+	/* ***************************************************************
+	 * PRIVATE METHODS
+	 * ***************************************************************
+	 */
+
+	/**
+	 * Send a request to the daemon
+	 * 
+	 * @param socket
+	 *            the connected socket
+	 * @param request
+	 *            the request (without the final new line)
+	 * @return the input stream for the response
+	 * @throws IOException
+	 */
+	private DataInputStream sendRequest(Socket socket, String request)
+			throws IOException {
+		OutputStream out = socket.getOutputStream();
+		out.write((request + "\n").getBytes("UTF-8"));
+		out.flush();
+		return new DataInputStream(socket.getInputStream());
+	}
+
+	/**
+	 * Read the status line of a response
+	 * 
+	 * @param in
+	 *            the response input stream
+	 * @return the number that follows OK in the status line (0 if none)
+	 * @throws IOException
+	 *             if the response is an error
+	 */
+	private int readStatus(DataInputStream in) throws IOException {
+		String status = readLine(in);
+		if (status == null)
+			throw new IOException("No response from " + host + ":" + port);
+		if (status.equals(ProfileAggregationDaemon.OK))
+			return 0;
+		if (!status.startsWith(ProfileAggregationDaemon.OK + " "))
+			throw new IOException(status);
+
+		try {
+			return Integer.parseInt(status.substring(
+					ProfileAggregationDaemon.OK.length() + 1).trim());
+		} catch (NumberFormatException e) {
+			throw new IOException("Invalid response: " + status);
+		}
+	}
+
+	/**
+	 * Read a UTF-8 line without buffering past its end, so that a binary
+	 * payload can follow it
+	 * 
+	 * @param in
+	 *            the input stream
+	 * @return the line, or null at the end of the stream
+	 * @throws IOException
+	 */
+	private String readLine(DataInputStream in) throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		int b = in.read();
+		if (b == -1)
+			return null;
+		while (b != -1 && b != '\n') {
+			bytes.write(b);
+			b = in.read();
+		}
+		return bytes.toString("UTF-8");
+	}
+
+	/* ***************************************************************
+	 * PUBLIC STATIC METHODS
+	 * ***************************************************************
+	 */
+
+	/**
+	 * @param location
+	 *            a job profile location
+	 * @return true if the location refers to a profile aggregation daemon
+	 */
+	public static boolean isAggregatorLocation(String location) {
+		return location.startsWith(AGGREGATOR_SCHEME);
+	}
+
+	/**
+	 * Register the configuration of a job with the local daemon. If the
+	 * configuration specifies the spool directory of the daemon, the
+	 * configuration is placed there; otherwise, it is sent to the port of the
+	 * daemon, if specified. Nothing happens if neither is specified.
+	 * 
+	 * @param conf
+	 *            the job configuration
+	 * @param jobId
+	 *            the job id
+	 * @return true if the configuration was sent to the daemon
+	 * @throws IOException
+	 */
+	public static boolean registerJob(Configuration conf, String jobId)
+			throws IOException {
+		String spoolDir = conf
+				.get(ProfileAggregationDaemon.AGGREGATOR_SPOOL_DIR);
+		if (spoolDir != null) {
+			// Write to a temporary file and rename it into the spool
+			File tmpFile = new File(spoolDir, jobId + ".xml.tmp");
+			FileOutputStream out = new FileOutputStream(tmpFile);
+			try {
+				conf.writeXml(out);
+			} finally {
+				out.close();
+			}
+			if (!tmpFile.renameTo(new File(spoolDir, jobId + ".xml"))) {
+				tmpFile.delete();
+				throw new IOException("Unable to spool the configuration of "
+						+ jobId + " in " + spoolDir);
+			}
+			return true;
+		}
+
+		if (conf.get(ProfileAggregationDaemon.AGGREGATOR_PORT) != null) {
+			ProfileAggregatorClient client = new ProfileAggregatorClient(
+					"127.0.0.1", conf.getInt(
+							ProfileAggregationDaemon.AGGREGATOR_PORT,
+							ProfileAggregationDaemon.DEF_PORT));
+			client.sendJobConf(jobId, conf);
+			return true;
+		}
+
+		return false;
+	}
+
+	/**
+	 * Import a job profile from a location, which is either the path of an
+	 * XML profile file or of the form aggregator://host:port/job_id
+	 * 
+	 * @param location
+	 *            the job profile location
+	 * @return the job profile
+	 */
+	public static MRJobProfile importJobProfile(String location) {
+		if (!isAggregatorLocation(location))
+			return XMLProfileParser.importJobProfile(new File(location));
+
+		String address = location.substring(AGGREGATOR_SCHEME.length());
+		int slash = address.indexOf('/');
+		int colon = address.lastIndexOf(':', slash);
+		if (slash < 0 || colon < 0 || slash == address.length() - 1)
+			throw new RuntimeException("ERROR: Invalid aggregator location: "
+					+ location);
+
+		try {
+			int port = Integer.parseInt(address.substring(colon + 1, slash));
+			ProfileAggregatorClient client = new ProfileAggregatorClient(
+					address.substring(0, colon), port);
+			return client.getJobProfile(address.substring(slash + 1));
+		} catch (NumberFormatException e) {
+			throw new RuntimeException("ERROR: Invalid aggregator location: "
+					+ location, e);
+		} catch (IOException e) {
+			throw new RuntimeException("ERROR: Unable to get the profile from "
+					+ location, e);
+		}
+	}
+
+}
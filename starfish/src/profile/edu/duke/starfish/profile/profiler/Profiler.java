@@ -26,8 +26,8 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.OutputStream;
-import java.net.HttpURLConnection;
-import java.net.URL;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -43,8 +43,6 @@ import org.apache.hadoop.io.IOUtils;
 
 import edu.duke.starfish.profile.profileinfo.execution.MRExecutionStatus;
 import edu.duke.starfish.profile.profileinfo.execution.jobs.MRJobInfo;
-import edu.duke.starfish.profile.profileinfo.execution.mrtaskattempts.MRMapAttemptInfo;
-import edu.duke.starfish.profile.profileinfo.execution.mrtaskattempts.MRReduceAttemptInfo;
 import edu.duke.starfish.profile.profileinfo.execution.mrtaskattempts.MRTaskAttemptInfo;
 import edu.duke.starfish.profile.profileinfo.execution.profile.MRJobProfile;
 import edu.duke.starfish.profile.profiler.loaders.MRJobHistoryLoader;
@@ -72,6 +70,11 @@ public class Profiler {
 	public static final String PROFILER_COLLECT_TRANSFERS = "starfish.profiler.collect.data.transfers";
 	public static final String PROFILER_SAMPLING_MODE = "starfish.profiler.sampling.mode";
 	public static final String PROFILER_SAMPLING_FRACTION = "starfish.profiler.sampling.fraction";
+	public static final String PROFILER_RECORD_SAMPLING_INTERVAL = "starfish.profiler.record.sampling.interval";
+	public static final String PROFILER_RECORD_SAMPLING_TIME_FRACTION = "starfish.profiler.record.sampling.time.fraction";
+	public static final String PROFILER_DOWNLOAD_THREADS = "starfish.profiler.download.threads";
+	public static final String PROFILER_DOWNLOAD_HOST_CONNECTIONS = "starfish.profiler.download.host.connections";
+	public static final String PROFILER_DOWNLOAD_RETRIES = "starfish.profiler.download.retries";
 
 	private static final Log LOG = LogFactory.getLog(Profiler.class);
 
@@ -195,6 +198,34 @@ public class Profiler {
 		return true;
 	}
 
+	/**
+	 * Registers the configuration of a submitted job with the local profile
+	 * aggregation daemon, if the configuration specifies the spool directory
+	 * or the port of the daemon. For more info see
+	 * {@link ProfileAggregatorClient#registerJob(Configuration, String)}.
+	 * 
+	 * NOTE: This method is to be used ONLY by BTrace scripts.
+	 * 
+	 * @param conf
+	 *            the MapReduce job configuration
+	 * @param jobId
+	 *            the job id
+	 */
+	public static void registerJobWithAggregator(Configuration conf,
+			String jobId) {
+
+		// Note: we must surround the entire method to catch all exceptions
+		// because BTrace cannot catch them
+		try {
+			if (ProfileAggregatorClient.registerJob(conf, jobId))
+				LOG.info("Registered " + jobId
+						+ " with the profile aggregator");
+		} catch (Exception e) {
+			LOG.error("Unable to register " + jobId
+					+ " with the profile aggregator", e);
+		}
+	}
+
 	/**
 	 * Gathers the job history files, the task profiles, and data transfers if
 	 * requested. Generates the job profile.
@@ -286,13 +317,14 @@ public class Profiler {
 				historyFiles[1].getAbsolutePath());
 		MRJobInfo mrJob = historyLoader.getMRJobInfoWithDetails();
 		String jobId = mrJob.getExecId();
+		TaskLogDownloader downloader = createTaskLogDownloader(conf);
 
 		if (conf.getBoolean(MR_TASK_PROFILE, false)) {
 
 			// Gather the profile files
 			File taskProfDir = new File(outputDir, "task_profiles");
 			taskProfDir.mkdir();
-			gatherJobProfileFiles(mrJob, taskProfDir);
+			gatherJobProfileFiles(mrJob, taskProfDir, downloader);
 
 			// Export the job profile XML file
 			File jobProfDir = new File(outputDir, "job_profiles");
@@ -313,7 +345,7 @@ public class Profiler {
 		if (conf.getBoolean(PROFILER_COLLECT_TRANSFERS, false)) {
 			File transfersDir = new File(outputDir, "transfers");
 			transfersDir.mkdir();
-			gatherJobTransferFiles(mrJob, transfersDir);
+			gatherJobTransferFiles(mrJob, transfersDir, downloader);
 		}
 
 		return jobId;
@@ -421,6 +453,25 @@ public class Profiler {
 	 */
 	public static void gatherJobProfileFiles(MRJobInfo mrJob, File profilesDir)
 			throws IOException {
+		gatherJobProfileFiles(mrJob, profilesDir, new TaskLogDownloader());
+	}
+
+	/**
+	 * Gathers the task profile files into the provided profiles directory, as
+	 * {@link #gatherJobProfileFiles(MRJobInfo, File)} does, using the provided
+	 * downloader for downloading the profiles from the cluster. The profiles
+	 * that already exist in the profiles directory are not downloaded again.
+	 * 
+	 * @param mrJob
+	 *            The MapReduce job info
+	 * @param profilesDir
+	 *            The profiles directory
+	 * @param downloader
+	 *            The task log downloader
+	 * @throws IOException
+	 */
+	public static void gatherJobProfileFiles(MRJobInfo mrJob,
+			File profilesDir, TaskLogDownloader downloader) throws IOException {
 
 		// Check for a valid destination directory
 		profilesDir.mkdirs();
@@ -444,14 +495,13 @@ public class Profiler {
 
 		if (!foundProfiles) {
 			// Download the profiles from the cluster
-			for (MRMapAttemptInfo attempt : mrJob
-					.getMapAttempts(MRExecutionStatus.SUCCESS)) {
-				downloadTaskProfile(attempt, profilesDir);
-			}
-			for (MRReduceAttemptInfo attempt : mrJob
-					.getReduceAttempts(MRExecutionStatus.SUCCESS)) {
-				downloadTaskProfile(attempt, profilesDir);
-			}
+			List<MRTaskAttemptInfo> attempts = new ArrayList<MRTaskAttemptInfo>();
+			attempts.addAll(mrJob.getMapAttempts(MRExecutionStatus.SUCCESS));
+			attempts.addAll(mrJob.getReduceAttempts(MRExecutionStatus.SUCCESS));
+
+			List<MRTaskAttemptInfo> failed = downloader.download(attempts,
+					"profile", new TaskProfileHandler(profilesDir));
+			checkFailedDownloads(failed, "profiles");
 		}
 	}
 
@@ -468,37 +518,48 @@ public class Profiler {
 	 */
 	public static void gatherJobTransferFiles(MRJobInfo mrJob, File transfersDir)
 			throws IOException {
+		gatherJobTransferFiles(mrJob, transfersDir, new TaskLogDownloader());
+	}
 
-		for (MRReduceAttemptInfo attempt : mrJob
-				.getReduceAttempts(MRExecutionStatus.SUCCESS)) {
-
-			// Open the connection to the syslog
-			HttpURLConnection connection = openHttpTaskLogConnection(attempt,
-					"syslog");
-
-			// Get the input stream
-			BufferedReader input = new BufferedReader(new InputStreamReader(
-					connection.getInputStream()));
-
-			// Create the output transfer file
-			File transfer = new File(transfersDir, "transfers_"
-					+ attempt.getExecId());
-			BufferedWriter output = new BufferedWriter(new FileWriter(transfer));
+	/**
+	 * Collects all the transfer files, as
+	 * {@link #gatherJobTransferFiles(MRJobInfo, File)} does, using the provided
+	 * downloader. The syslogs are filtered while they are downloaded, and the
+	 * transfer files that already exist are not downloaded again.
+	 * 
+	 * @param mrJob
+	 *            The MapReduce job
+	 * @param transfersDir
+	 *            The transfers directory
+	 * @param downloader
+	 *            The task log downloader
+	 * @throws IOException
+	 */
+	public static void gatherJobTransferFiles(MRJobInfo mrJob,
+			File transfersDir, TaskLogDownloader downloader)
+			throws IOException {
 
-			try {
-				// Copy the relevant data
-				String logData = null;
-				while ((logData = input.readLine()) != null) {
-					if (TRANSFERS_PATTERN.matcher(logData).matches()) {
-						output.write(logData + "\n");
-						output.flush();
-					}
-				}
-			} finally {
-				input.close();
-			}
-		}
+		List<MRTaskAttemptInfo> failed = downloader.download(mrJob
+				.getReduceAttempts(MRExecutionStatus.SUCCESS), "syslog",
+				new TransfersHandler(transfersDir));
+		checkFailedDownloads(failed, "transfers");
+	}
 
+	/**
+	 * Create a task log downloader based on the profiler settings in the
+	 * configuration
+	 * 
+	 * @param conf
+	 *            the configuration
+	 * @return the task log downloader
+	 */
+	public static TaskLogDownloader createTaskLogDownloader(
+			Configuration conf) {
+		return new TaskLogDownloader(conf.getInt(PROFILER_DOWNLOAD_THREADS,
+				TaskLogDownloader.DEF_NUM_THREADS), conf.getInt(
+				PROFILER_DOWNLOAD_HOST_CONNECTIONS,
+				TaskLogDownloader.DEF_HOST_CONNECTIONS), conf.getInt(
+				PROFILER_DOWNLOAD_RETRIES, TaskLogDownloader.DEF_MAX_RETRIES));
 	}
 
 	/**
@@ -606,6 +667,18 @@ public class Profiler {
 			conf.set(Profiler.PROFILER_SAMPLING_FRACTION,
 					System.getProperty(Profiler.PROFILER_SAMPLING_FRACTION));
 
+		// The record sampling interval
+		if (conf.get(Profiler.PROFILER_RECORD_SAMPLING_INTERVAL) == null
+				&& System.getProperty(Profiler.PROFILER_RECORD_SAMPLING_INTERVAL) != null)
+			conf.set(Profiler.PROFILER_RECORD_SAMPLING_INTERVAL, System
+					.getProperty(Profiler.PROFILER_RECORD_SAMPLING_INTERVAL));
+
+		// The record sampling time fraction
+		if (conf.get(Profiler.PROFILER_RECORD_SAMPLING_TIME_FRACTION) == null
+				&& System.getProperty(Profiler.PROFILER_RECORD_SAMPLING_TIME_FRACTION) != null)
+			conf.set(Profiler.PROFILER_RECORD_SAMPLING_TIME_FRACTION, System
+					.getProperty(Profiler.PROFILER_RECORD_SAMPLING_TIME_FRACTION));
+
 		// Flag to retain the task profiles
 		if (conf.get(Profiler.PROFILER_RETAIN_TASK_PROFS) == null
 				&& System.getProperty(Profiler.PROFILER_RETAIN_TASK_PROFS) != null)
@@ -617,45 +690,43 @@ public class Profiler {
 				&& System.getProperty(Profiler.PROFILER_COLLECT_TRANSFERS) != null)
 			conf.set(Profiler.PROFILER_COLLECT_TRANSFERS,
 					System.getProperty(Profiler.PROFILER_COLLECT_TRANSFERS));
+
+		// The settings of the task log downloads
+		String[] downloadProps = { PROFILER_DOWNLOAD_THREADS,
+				PROFILER_DOWNLOAD_HOST_CONNECTIONS, PROFILER_DOWNLOAD_RETRIES };
+		for (String prop : downloadProps) {
+			if (conf.get(prop) == null && System.getProperty(prop) != null)
+				conf.set(prop, System.getProperty(prop));
+		}
+
+		// The location of the profile aggregation daemon
+		String[] aggregatorProps = {
+				ProfileAggregationDaemon.AGGREGATOR_PORT,
+				ProfileAggregationDaemon.AGGREGATOR_SPOOL_DIR };
+		for (String prop : aggregatorProps) {
+			if (conf.get(prop) == null && System.getProperty(prop) != null)
+				conf.set(prop, System.getProperty(prop));
+		}
 	}
 
 	/**
-	 * Build and return the URL to the log file for this particular task
-	 * attempt.
-	 * 
-	 * Valid values for logFile: stdout, stderr, syslog, profile
+	 * Report the task logs that failed to download. The logs that were
+	 * downloaded are kept, so calling the gather methods again will only
+	 * download the failed logs.
 	 * 
-	 * NOTE: Hadoop 0.20.2 uses taskid in the URL whereas Hadoop 0.20.203.0 uses
-	 * attemptid. The boolean useAttemptId is used to support both versions.
-	 * 
-	 * @param attempt
-	 *            the task attempt
-	 * @param logFile
-	 *            the log file of interest
-	 * @param useAttemptId
-	 *            whether to use attemptid or taskid
-	 * @return the URL to the log file
+	 * @param failed
+	 *            the attempts whose downloads failed
+	 * @param logType
+	 *            the type of the logs
 	 * @throws IOException
 	 */
-	private static URL buildHttpTaskLogUrl(MRTaskAttemptInfo attempt,
-			String logFile, boolean useAttemptId) throws IOException {
-
-		// Build the HTTP task log URL
-		StringBuilder httpTaskLog = new StringBuilder();
-		httpTaskLog.append("http://");
-		httpTaskLog.append(attempt.getTaskTracker().getHostName());
-		httpTaskLog.append(":");
-		httpTaskLog.append(attempt.getTaskTracker().getPort());
-		if (useAttemptId)
-			httpTaskLog.append("/tasklog?plaintext=true&attemptid=");
-		else
-			httpTaskLog.append("/tasklog?plaintext=true&taskid=");
-		httpTaskLog.append(attempt.getExecId());
-		httpTaskLog.append("&filter=");
-		httpTaskLog.append(logFile);
-
-		// Open the connection and get the input stream
-		return new URL(httpTaskLog.toString());
+	private static void checkFailedDownloads(List<MRTaskAttemptInfo> failed,
+			String logType) throws IOException {
+		if (!failed.isEmpty()) {
+			throw new IOException("Unable to download the " + logType
+					+ " of " + failed.size() + " task attempts, such as "
+					+ failed.get(0).getExecId());
+		}
 	}
 
 	/**
@@ -708,29 +779,6 @@ public class Profiler {
 		return localJobFiles;
 	}
 
-	/**
-	 * Download a task profile from the cluster to the provided profiles
-	 * directory
-	 * 
-	 * @param attempt
-	 *            the task attempt
-	 * @param profilesDir
-	 *            the profiles directory to place the file
-	 * @throws IOException
-	 */
-	private static void downloadTaskProfile(MRTaskAttemptInfo attempt,
-			File profilesDir) throws IOException {
-		HttpURLConnection connection = openHttpTaskLogConnection(attempt,
-				"profile");
-
-		if (connection.getResponseCode() == HttpURLConnection.HTTP_OK) {
-			InputStream in = connection.getInputStream();
-			OutputStream out = new FileOutputStream(new File(profilesDir,
-					attempt.getExecId() + ".profile"));
-			IOUtils.copyBytes(in, out, 64 * 1024, true);
-		}
-	}
-
 	/**
 	 * Returns an array of task profile files found in the provided directory
 	 * for the particular MapReduce job
@@ -756,38 +804,119 @@ public class Profiler {
 		return files;
 	}
 
+	/* ***************************************************************
+	 * PRIVATE CLASSES
+	 * ***************************************************************
+	 */
+
 	/**
-	 * Opens an HTTP URL connection to the requested logFile for the particular
-	 * task attempt.
-	 * 
-	 * Valid values for logFile: stdout, stderr, syslog, profile
+	 * Stores each downloaded task profile in the profiles directory. The
+	 * profile is written in a temporary file first, so that a failed download
+	 * never leaves a partial profile behind.
 	 * 
-	 * If the log file does not exist, the connection's response code will be
-	 * HttpURLConnection.HTTP_BAD_REQUEST
+	 * @author hero
+	 */
+	private static class TaskProfileHandler implements ITaskLogHandler {
+
+		private File profilesDir; // The profiles directory
+
+		/**
+		 * @param profilesDir
+		 *            the profiles directory
+		 */
+		public TaskProfileHandler(File profilesDir) {
+			this.profilesDir = profilesDir;
+		}
+
+		@Override
+		public boolean isHandled(MRTaskAttemptInfo attempt) {
+			return new File(profilesDir, attempt.getExecId() + ".profile")
+					.exists();
+		}
+
+		@Override
+		public void handle(MRTaskAttemptInfo attempt, InputStream log)
+				throws IOException {
+			File profile = new File(profilesDir, attempt.getExecId()
+					+ ".profile");
+			File tempFile = new File(profilesDir, profile.getName() + ".part");
+
+			OutputStream out = new FileOutputStream(tempFile);
+			try {
+				IOUtils.copyBytes(log, out, 64 * 1024, false);
+			} catch (IOException e) {
+				out.close();
+				tempFile.delete();
+				throw e;
+			}
+			out.close();
+
+			if (!tempFile.renameTo(profile)) {
+				tempFile.delete();
+				throw new IOException("Unable to create the file " + profile);
+			}
+		}
+	}
+
+	/**
+	 * Filters the transfer entries out of each downloaded reducer syslog and
+	 * stores them in the transfers directory. The transfers are written in a
+	 * temporary file first, so that a failed download never leaves a partial
+	 * transfer file behind.
 	 * 
-	 * @param attempt
-	 *            the task attempt
-	 * @param logFile
-	 *            the log file of interest
-	 * @return the HTTP URL connection to the log file
-	 * @throws IOException
+	 * @author hero
 	 */
-	private static HttpURLConnection openHttpTaskLogConnection(
-			MRTaskAttemptInfo attempt, String logFile) throws IOException {
-
-		// Get the URL to the log file and open the connection
-		URL taskLogUrl = buildHttpTaskLogUrl(attempt, logFile, false);
-		HttpURLConnection connection = (HttpURLConnection) taskLogUrl
-				.openConnection();
-
-		if (connection.getResponseCode() != HttpURLConnection.HTTP_OK) {
-			// This case handles backwards incompatibility introduced with
-			// Hadoop 0.20.203.0
-			taskLogUrl = buildHttpTaskLogUrl(attempt, logFile, true);
-			connection = (HttpURLConnection) taskLogUrl.openConnection();
+	private static class TransfersHandler implements ITaskLogHandler {
+
+		private File transfersDir; // The transfers directory
+
+		/**
+		 * @param transfersDir
+		 *            the transfers directory
+		 */
+		public TransfersHandler(File transfersDir) {
+			this.transfersDir = transfersDir;
 		}
 
-		return connection;
+		@Override
+		public boolean isHandled(MRTaskAttemptInfo attempt) {
+			return new File(transfersDir, "transfers_" + attempt.getExecId())
+					.exists();
+		}
+
+		@Override
+		public void handle(MRTaskAttemptInfo attempt, InputStream log)
+				throws IOException {
+			File transfer = new File(transfersDir, "transfers_"
+					+ attempt.getExecId());
+			File tempFile = new File(transfersDir, transfer.getName()
+					+ ".part");
+
+			BufferedReader input = new BufferedReader(new InputStreamReader(
+					log));
+			BufferedWriter output = new BufferedWriter(
+					new FileWriter(tempFile));
+			try {
+				// Copy the relevant data
+				String logData = null;
+				while ((logData = input.readLine()) != null) {
+					if (TRANSFERS_PATTERN.matcher(logData).matches()) {
+						output.write(logData);
+						output.write('\n');
+					}
+				}
+			} catch (IOException e) {
+				output.close();
+				tempFile.delete();
+				throw e;
+			}
+			output.close();
+
+			if (!tempFile.renameTo(transfer)) {
+				tempFile.delete();
+				throw new IOException("Unable to create the file " + transfer);
+			}
+		}
 	}
 
 }
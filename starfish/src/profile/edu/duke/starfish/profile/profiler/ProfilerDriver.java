@@ -22,6 +22,7 @@ import edu.duke.starfish.profile.profileinfo.execution.mrtaskattempts.MRReduceAt
 import edu.duke.starfish.profile.profileinfo.execution.profile.MRJobProfile;
 import edu.duke.starfish.profile.profileinfo.metrics.DataTransfer;
 import edu.duke.starfish.profile.profiler.loaders.SysStatsLoader;
+import edu.duke.starfish.profile.utils.BinaryProfileParser;
 import edu.duke.starfish.profile.utils.GeneralUtils;
 import edu.duke.starfish.profile.utils.ProfileUtils;
 import edu.duke.starfish.profile.utils.XMLProfileParser;
@@ -35,7 +36,7 @@ import edu.duke.starfish.profile.utils.XMLProfileParser;
  *  bin/hadoop jar starfish-*-profiler.jar &lt;parameters&gt;
  * 
  * The profiler parameters must be one of:
- *   -mode list_all   -results &lt;dir&gt; [-ouput &lt;file&gt;]
+ *   -mode list_all   -results &lt;dir&gt; [-watch &lt;secs&gt;] [-ouput &lt;file&gt;]
  *   -mode list_stats -results &lt;dir&gt; [-ouput &lt;file&gt;]
  * 
  *   -mode details   -job &lt;job_id&gt; -results &lt;dir&gt; [-ouput &lt;file&gt;]
@@ -53,6 +54,9 @@ import edu.duke.starfish.profile.utils.XMLProfileParser;
  *   
  *   -mode adjust    -job1 &lt;job_id&gt; -job2 &lt;job_id&gt; -results &lt;dir&gt; [-ouput &lt;file&gt;]
  * 
+ *   -mode xml_to_bin -results &lt;dir&gt; [-job &lt;job_id&gt;] [-ouput &lt;file&gt;]
+ *   -mode bin_to_xml -results &lt;dir&gt; [-job &lt;job_id&gt;] [-ouput &lt;file&gt;]
+ * 
  *   -mode cpustats  -monitor &lt;dir&gt; -node <node_name> 
  *     [-job &lt;job_id&gt; -results &lt;dir&gt;] [-output &lt;file&gt;]
  *   -mode memstats  -monitor &lt;dir&gt; -node <node_name> 
@@ -74,6 +78,8 @@ import edu.duke.starfish.profile.utils.XMLProfileParser;
  *   profile       Display the profile of a job
  *   profile_xml   Display the profile of a job in an XML format
  *   adjust        Adjusts the compression costs for two MR jobs
+ *   xml_to_bin    Convert the XML job profiles into binary profiles
+ *   bin_to_xml    Convert the binary job profiles into XML profiles
  *   cpustats      Display CPU stats of a node
  *   memstats      Display Memory stats of a node
  *   iostats       Display I/O stats of a node
@@ -86,6 +92,7 @@ import edu.duke.starfish.profile.utils.XMLProfileParser;
  *   -node &lt;node_name$gt; The node name of interest (for monitor info)
  *   -job1 &lt;job_id&gt;    The job id for job run without compression
  *   -job2 &lt;job_id&gt;    The job id for job run with compression
+ *   -watch &lt;secs&gt;    Poll for new jobs every secs seconds (list_all)
  *   -output &lt;file&gt;    An optional file to write the output to
  *   -help                   Display detailed instructions
  * 
@@ -108,6 +115,7 @@ public class ProfilerDriver {
 	private static String NODE = "node";
 	private static String JOB1 = "job1";
 	private static String JOB2 = "job2";
+	private static String WATCH = "watch";
 	private static String OUTPUT = "output";
 	private static String HELP = "help";
 
@@ -125,12 +133,15 @@ public class ProfilerDriver {
 	private static String PROFILE = "profile";
 	private static String PROFILE_XML = "profile_xml";
 	private static String ADJUST = "adjust";
+	private static String XML_TO_BIN = "xml_to_bin";
+	private static String BIN_TO_XML = "bin_to_xml";
 	private static String CPU_STATS = "cpustats";
 	private static String MEM_STATS = "memstats";
 	private static String IO_STATS = "iostats";
 
 	// Other constants
 	private static String TAB = "\t";
+	private static String JOB_PROFILES = "job_profiles";
 
 	/* ***************************************************************
 	 * MAIN DRIVER
@@ -194,6 +205,9 @@ public class ProfilerDriver {
 		if (mode.equals(LIST_ALL)) {
 			// List the job basic information
 			printMRJobSummaries(out, manager.getAllMRJobInfos());
+			if (line.hasOption(WATCH))
+				watchMRJobSummaries(out, manager, Long.parseLong(line
+						.getOptionValue(WATCH)));
 
 		} else if (mode.equals(LIST_STATS)) {
 			// List the job statistics
@@ -304,7 +318,7 @@ public class ProfilerDriver {
 
 			// Export the adjusted profiles
 			File jobProfDir = new File(line.getOptionValue(RESULTS),
-					"job_profiles");
+					JOB_PROFILES);
 			File profile1XML = new File(jobProfDir, "adj_profile_"
 					+ line.getOptionValue(JOB1) + ".xml");
 			File profile2XML = new File(jobProfDir, "adj_profile_"
@@ -317,6 +331,15 @@ public class ProfilerDriver {
 					+ line.getOptionValue(JOB1) + " and "
 					+ line.getOptionValue(JOB2));
 
+		} else if (mode.equals(XML_TO_BIN) || mode.equals(BIN_TO_XML)) {
+			// Convert the job profiles
+			File jobProfDir = new File(line.getOptionValue(RESULTS),
+					JOB_PROFILES);
+			int numConverted = convertJobProfiles(out, jobProfDir,
+					line.getOptionValue(JOB), mode.equals(XML_TO_BIN));
+			out.println("Converted " + numConverted + " job profiles in "
+					+ jobProfDir.getAbsolutePath());
+
 		} else if (mode.equals(MAPPERS)) {
 			// Print the map timings
 			if (manager.loadTaskDetailsForMRJob(mrJob)) {
@@ -438,6 +461,10 @@ public class ProfilerDriver {
 		Option nodeOption = OptionBuilder.withArgName("node_name").hasArg()
 				.withDescription("The node name of interest").create(NODE);
 
+		Option watchOption = OptionBuilder.withArgName("secs").hasArg()
+				.withDescription("Poll for new jobs every secs seconds")
+				.create(WATCH);
+
 		Option outputOption = OptionBuilder.withArgName("filepath").hasArg()
 				.withDescription("An output file to print to").create(OUTPUT);
 		Option helpOption = OptionBuilder.withArgName("help").create(HELP);
@@ -451,6 +478,7 @@ public class ProfilerDriver {
 		opts.addOption(nodeOption);
 		opts.addOption(job1Option);
 		opts.addOption(job2Option);
+		opts.addOption(watchOption);
 		opts.addOption(outputOption);
 		opts.addOption(helpOption);
 
@@ -607,6 +635,23 @@ public class ProfilerDriver {
 				printUsage(System.err);
 				System.exit(-1);
 			}
+			if (line.hasOption(WATCH)) {
+				if (!mode.equals(LIST_ALL)) {
+					System.err.println("The 'watch' option is only "
+							+ "supported for mode 'list_all'");
+					printUsage(System.err);
+					System.exit(-1);
+				}
+				try {
+					if (Long.parseLong(line.getOptionValue(WATCH)) <= 0)
+						throw new NumberFormatException();
+				} catch (NumberFormatException e) {
+					System.err.println("The 'watch' option must be "
+							+ "a positive number of seconds");
+					printUsage(System.err);
+					System.exit(-1);
+				}
+			}
 		}
 
 		// -mode {details|cluster|timeline|mappers|reducers}
@@ -650,6 +695,15 @@ public class ProfilerDriver {
 				System.exit(-1);
 			}
 		}
+		// -mode {xml_to_bin|bin_to_xml} -results <dir> [-job <job_id>]
+		// [-ouput <file>]
+		else if (mode.equals(XML_TO_BIN) || mode.equals(BIN_TO_XML)) {
+			if (!line.hasOption(RESULTS)) {
+				System.err.println("The 'results' option is required");
+				printUsage(System.err);
+				System.exit(-1);
+			}
+		}
 		// -mode {cpustats|memstats|iostats}
 		// -monitor <dir> -node <node_name>
 		// [-job <job_id> -results <dir>] [-output <file>]
@@ -674,6 +728,74 @@ public class ProfilerDriver {
 		return line;
 	}
 
+	/**
+	 * Convert the job profiles (regular and adjusted) in the job profiles
+	 * directory from the XML to the binary format, or vice versa. A profile is
+	 * only converted when the converted file does not exist or is older than
+	 * the source file. The converted file gets the modification time of the
+	 * source file, so that the binary file remains preferred for loading.
+	 * 
+	 * @param out
+	 *            The print stream to print at
+	 * @param jobProfDir
+	 *            the job profiles directory
+	 * @param jobId
+	 *            the job whose profiles to convert (null for all jobs)
+	 * @param toBinary
+	 *            whether to convert from XML to binary or the opposite
+	 * @return the number of converted profiles
+	 */
+	private static int convertJobProfiles(PrintStream out, File jobProfDir,
+			String jobId, boolean toBinary) {
+
+		File[] files = jobProfDir.listFiles();
+		if (files == null) {
+			System.err.println(jobProfDir.getAbsolutePath()
+					+ " is not a directory!");
+			return 0;
+		}
+
+		String ext = toBinary ? ".xml" : BinaryProfileParser.BINARY_EXT;
+		int numConverted = 0;
+		for (File file : files) {
+			// Find the profiles to convert
+			String name = file.getName();
+			if (!name.endsWith(ext))
+				continue;
+			String base = name.substring(0, name.length() - ext.length());
+			if (base.startsWith("adj_"))
+				base = base.substring(4);
+			if (!base.startsWith("profile_")
+					|| (jobId != null && !base.equals("profile_" + jobId)))
+				continue;
+
+			File target = toBinary ? BinaryProfileParser.getBinaryFile(file)
+					: BinaryProfileParser.getXMLFile(file);
+			if (target.exists() && target.lastModified() >= file.lastModified())
+				continue;
+
+			// Convert the profile
+			MRJobProfile jobProfile = toBinary ? XMLProfileParser
+					.importJobProfile(file) : BinaryProfileParser
+					.importJobProfile(file);
+			if (jobProfile == null) {
+				System.err.println("Unable to load the profile " + name);
+				continue;
+			}
+
+			if (toBinary)
+				BinaryProfileParser.exportJobProfile(jobProfile, target);
+			else
+				XMLProfileParser.exportJobProfile(jobProfile, target);
+			target.setLastModified(file.lastModified());
+
+			out.println("Converted " + name + " to " + target.getName());
+			++numConverted;
+		}
+
+		return numConverted;
+	}
+
 	/**
 	 * Print out information regarding the data transfers from the successful
 	 * map attempts to the successful reduce attempts. Information includes the
@@ -797,6 +919,37 @@ public class ProfilerDriver {
 
 	}
 
+	/**
+	 * Periodically rescan the history directory and print the summaries of any
+	 * new (or modified) jobs, until the process is interrupted. Only the
+	 * history files of the new jobs are parsed in each scan.
+	 * 
+	 * @param out
+	 *            The print stream to print at
+	 * @param manager
+	 *            the job logs manager
+	 * @param secs
+	 *            the polling interval in seconds
+	 */
+	private static void watchMRJobSummaries(PrintStream out,
+			MRJobLogsManager manager, long secs) {
+
+		while (true) {
+			out.flush();
+			try {
+				Thread.sleep(secs * 1000);
+			} catch (InterruptedException e) {
+				return;
+			}
+
+			for (String jobId : manager.rescanHistoryDirectory()) {
+				MRJobInfo mrJob = manager.getMRJobInfo(jobId);
+				if (mrJob != null)
+					out.println(getMRJobSummaryString(mrJob));
+			}
+		}
+	}
+
 	/**
 	 * Print the usage message.
 	 * 
@@ -810,9 +963,9 @@ public class ProfilerDriver {
 		out.println("  bin/hadoop jar starfish_profiler.jar <parameters>");
 		out.println();
 		out.println("The profiler parameters must be "
-				+ "one of the following six cases:");
+				+ "one of the following seven cases:");
 		out.println("  -mode {list_all|list_stats}");
-		out.println("    -results <dir> [-ouput <file>]");
+		out.println("    -results <dir> [-watch <secs>] [-ouput <file>]");
 		out.println();
 		out.println("  -mode {details|cluster|timeline" + "|mappers|reducers}");
 		out.println("    -job <job_id> -results <dir> [-ouput <file>]");
@@ -826,6 +979,9 @@ public class ProfilerDriver {
 		out.println("  -mode adjust");
 		out.println("    -job1 <job_id> -job2 <job_id> -results <dir> [-ouput <file>]");
 		out.println();
+		out.println("  -mode {xml_to_bin|bin_to_xml}");
+		out.println("    -results <dir> [-job <job_id>] [-ouput <file>]");
+		out.println();
 		out.println("  -mode {cpustats|memstats|iostats}");
 		out.println("    -monitor <dir> -node <node_name> ");
 		out.println("    [-job <job_id> -results <dir>] [-output <file>]");
@@ -846,7 +1002,8 @@ public class ProfilerDriver {
 		out.println(" bin/hadoop jar starfish_profiler.jar <parameters>");
 		out.println();
 		out.println("The profiler parameters must be one of:");
-		out.println("  -mode list_all   -results <dir> [-ouput <file>]");
+		out.println("  -mode list_all   "
+				+ "-results <dir> [-watch <secs>] [-ouput <file>]");
 		out.println("  -mode list_stats -results <dir> [-ouput <file>]");
 		out.println();
 		out.println("  -mode details     "
@@ -869,6 +1026,11 @@ public class ProfilerDriver {
 		out.println("  -mode adjust  "
 				+ "-job1 <job_id> -job2 <job_id> -results <dir> [-ouput <file>]");
 		out.println();
+		out.println("  -mode xml_to_bin "
+				+ "-results <dir> [-job <job_id>] [-ouput <file>]");
+		out.println("  -mode bin_to_xml "
+				+ "-results <dir> [-job <job_id>] [-ouput <file>]");
+		out.println();
 		out.println("  -mode cpustats  -monitor <dir> -node <node_name> ");
 		out.println("     [-job <job_id> -results <dir>] [-output <file>]");
 		out.println("  -mode memstats  -monitor <dir> -node <node_name> ");
@@ -893,6 +1055,10 @@ public class ProfilerDriver {
 		out.println("  profile_xml  "
 				+ "Display the profile of a job in XML format");
 		out.println("  adjust       Adjusts compression costs for two jobs");
+		out.println("  xml_to_bin   "
+				+ "Convert the XML job profiles into binary profiles");
+		out.println("  bin_to_xml   "
+				+ "Convert the binary job profiles into XML profiles");
 		out.println("  cpustats     Display CPU stats of a node");
 		out.println("  memstats     Display Memory stats of a node");
 		out.println("  iostats      Display I/O stats of a node");
@@ -910,6 +1076,8 @@ public class ProfilerDriver {
 				+ "The job id for job run with compression");
 		out.println("  -node <node_name> "
 				+ "The node name of interest (for monitor info)");
+		out.println("  -watch <secs>     "
+				+ "Poll for new jobs every secs seconds (list_all)");
 		out.println("  -output <file>    "
 				+ "An optional file to write the output to");
 		out.println("  -help             Display detailed instructions");
@@ -0,0 +1,490 @@
+package edu.duke.starfish.profile.profiler;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import edu.duke.starfish.profile.profileinfo.execution.mrtaskattempts.MRTaskAttemptInfo;
+import edu.duke.starfish.profile.profileinfo.setup.TaskTrackerInfo;
+import edu.duke.starfish.profile.utils.DaemonThreadFactory;
+
+/**
+ * Downloads the log files of task attempts (stdout, stderr, syslog, profile)
+ * from the HTTP servers of the task trackers, using a bounded pool of threads:
+ * 
+ * <ul>
+ * <li>At most a few connections are open to each host at any time, and the
+ * attempts are interleaved across the hosts so that all the hosts are
+ * busy.</li>
+ * <li>The responses are always read to the end, so that the JVM can reuse the
+ * (keep-alive) connections to the same task tracker.</li>
+ * <li>The URL format of each task tracker is discovered once and then reused.
+ * Hadoop 0.20.2 expects a taskid whereas Hadoop 0.20.203.0 expects an
+ * attemptid in the URL.</li>
+ * <li>Each log is streamed straight into an {@link ITaskLogHandler}.</li>
+ * <li>Failed downloads are retried, and the logs that the handler has already
+ * handled are skipped, so a partially failed download can be resumed.</li>
+ * </ul>
+ * 
+ * @author hero
+ */
+public class TaskLogDownloader {
+
+	/* ***************************************************************
+	 * DATA MEMBERS
+	 * ***************************************************************
+	 */
+
+	private int numThreads; // The max number of concurrent downloads
+	private int maxHostConnections; // The max connections per host
+	private int maxRetries; // The number of retries for each log
+	private int timeout; // The connect and read timeout in ms
+
+	// Whether each task tracker (host:port) uses the attemptid format
+	private ConcurrentMap<String, Boolean> trackerFormats;
+
+	// The connection permits of each host
+	private ConcurrentMap<String, Semaphore> hostPermits;
+
+	public static final int DEF_NUM_THREADS = 16;
+	public static final int DEF_HOST_CONNECTIONS = 2;
+	public static final int DEF_MAX_RETRIES = 2;
+	public static final int DEF_TIMEOUT = 60000;
+
+	private static final Log LOG = LogFactory.getLog(TaskLogDownloader.class);
+
+	private static final String THREAD_NAME = "starfish-log-downloader-";
+	private static final int BUFFER_SIZE = 64 * 1024;
+	private static final long RETRY_WAIT = 100l; // ms, doubled on each retry
+
+	/**
+	 * Default Constructor
+	 */
+	public TaskLogDownloader() {
+		this(DEF_NUM_THREADS, DEF_HOST_CONNECTIONS, DEF_MAX_RETRIES);
+	}
+
+	/**
+	 * Constructor
+	 * 
+	 * @param numThreads
+	 *            the max number of concurrent downloads
+	 * @param maxHostConnections
+	 *            the max number of connections to each host
+	 * @param maxRetries
+	 *            the number of times to retry a failed download
+	 */
+	public TaskLogDownloader(int numThreads, int maxHostConnections,
+			int maxRetries) {
+		if (numThreads < 1)
+			throw new RuntimeException("ERROR: The number of threads must "
+					+ "be positive: " + numThreads);
+		if (maxHostConnections < 1)
+			throw new RuntimeException("ERROR: The number of connections "
+					+ "per host must be positive: " + maxHostConnections);
+		if (maxRetries < 0)
+			throw new RuntimeException("ERROR: The number of retries must "
+					+ "not be negative: " + maxRetries);
+
+		this.numThreads = numThreads;
+		this.maxHostConnections = maxHostConnections;
+		this.maxRetries = maxRetries;
+		this.timeout = DEF_TIMEOUT;
+
+		this.trackerFormats = new ConcurrentHashMap<String, Boolean>();
+		this.hostPermits = new ConcurrentHashMap<String, Semaphore>();
+	}
+
+	/* ***************************************************************
+	 * PUBLIC METHODS
+	 * ***************************************************************
+	 */
+
+	/**
+	 * @return the max number of concurrent downloads
+	 */
+	public int getNumThreads() {
+		return numThreads;
+	}
+
+	/**
+	 * @return the max number of connections to each host
+	 */
+	public int getMaxHostConnections() {
+		return maxHostConnections;
+	}
+
+	/**
+	 * @return the number of times to retry a failed download
+	 */
+	public int getMaxRetries() {
+		return maxRetries;
+	}
+
+	/**
+	 * @return the connect and read timeout in milliseconds
+	 */
+	public int getTimeout() {
+		return timeout;
+	}
+
+	/**
+	 * @param timeout
+	 *            the connect and read timeout in milliseconds (0 for none)
+	 */
+	public void setTimeout(int timeout) {
+		this.timeout = (timeout < 0) ? 0 : timeout;
+	}
+
+	/**
+	 * Download the requested log file of each task attempt and pass it to the
+	 * handler. The attempts that the handler has already handled are skipped.
+	 * A log that does not exist on the task tracker is not considered a
+	 * failure.
+	 * 
+	 * Valid values for logFile: stdout, stderr, syslog, profile
+	 * 
+	 * @param attempts
+	 *            the task attempts
+	 * @param logFile
+	 *            the log file of interest
+	 * @param handler
+	 *            the handler of the logs
+	 * @return the attempts whose downloads failed after all the retries
+	 */
+	public List<MRTaskAttemptInfo> download(
+			List<? extends MRTaskAttemptInfo> attempts, final String logFile,
+			final ITaskLogHandler handler) {
+
+		List<MRTaskAttemptInfo> pending = interleaveByHost(attempts, handler);
+		List<MRTaskAttemptInfo> failed = new ArrayList<MRTaskAttemptInfo>();
+		if (pending.isEmpty())
+			return failed;
+
+		List<Callable<Boolean>> tasks = new ArrayList<Callable<Boolean>>(
+				pending.size());
+		for (final MRTaskAttemptInfo attempt : pending) {
+			tasks.add(new Callable<Boolean>() {
+				public Boolean call() {
+					return downloadWithRetries(attempt, logFile, handler);
+				}
+			});
+		}
+
+		int poolSize = Math.min(numThreads, pending.size());
+		ExecutorService executor = Executors.newFixedThreadPool(poolSize,
+				new DaemonThreadFactory(THREAD_NAME));
+		try {
+			List<Future<Boolean>> results = executor.invokeAll(tasks);
+			for (int i = 0; i < results.size(); ++i) {
+				if (!results.get(i).get())
+					failed.add(pending.get(i));
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new RuntimeException(
+					"ERROR: Interrupted while downloading the task logs", e);
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof RuntimeException)
+				throw (RuntimeException) cause;
+			throw new RuntimeException(
+					"ERROR: Failed to download the task logs", cause);
+		} finally {
+			executor.shutdownNow();
+		}
+
+		LOG.debug("Downloaded " + (pending.size() - failed.size()) + " out of "
+				+ pending.size() + " " + logFile + " logs");
+		return failed;
+	}
+
+	/* ***************************************************************
+	 * PRIVATE METHODS
+	 * ***************************************************************
+	 */
+
+	/**
+	 * Build and return the URL to the log file for this particular task
+	 * attempt.
+	 * 
+	 * @param attempt
+	 *            the task attempt
+	 * @param logFile
+	 *            the log file of interest
+	 * @param useAttemptId
+	 *            whether to use attemptid or taskid
+	 * @return the URL to the log file
+	 * @throws IOException
+	 */
+	private URL buildHttpTaskLogUrl(MRTaskAttemptInfo attempt,
+			String logFile, boolean useAttemptId) throws IOException {
+
+		// Build the HTTP task log URL
+		StringBuilder httpTaskLog = new StringBuilder();
+		httpTaskLog.append("http://");
+		httpTaskLog.append(attempt.getTaskTracker().getHostName());
+		httpTaskLog.append(":");
+		httpTaskLog.append(attempt.getTaskTracker().getPort());
+		if (useAttemptId)
+			httpTaskLog.append("/tasklog?plaintext=true&attemptid=");
+		else
+			httpTaskLog.append("/tasklog?plaintext=true&taskid=");
+		httpTaskLog.append(attempt.getExecId());
+		httpTaskLog.append("&filter=");
+		httpTaskLog.append(logFile);
+
+		return new URL(httpTaskLog.toString());
+	}
+
+	/**
+	 * Discard the rest of the response of a connection, so that the
+	 * underlying connection can be reused for the next request to the same
+	 * task tracker.
+	 * 
+	 * @param connection
+	 *            the connection
+	 */
+	private void discardResponse(HttpURLConnection connection) {
+		try {
+			InputStream in = connection.getErrorStream();
+			if (in == null)
+				in = connection.getInputStream();
+			drain(in);
+		} catch (IOException e) {
+			// The connection will not be reused
+			connection.disconnect();
+		}
+	}
+
+	/**
+	 * Download the log file of a task attempt and pass it to the handler
+	 * 
+	 * @param attempt
+	 *            the task attempt
+	 * @param logFile
+	 *            the log file of interest
+	 * @param handler
+	 *            the log handler
+	 * @throws IOException
+	 */
+	private void downloadLog(MRTaskAttemptInfo attempt, String logFile,
+			ITaskLogHandler handler) throws IOException {
+
+		TaskTrackerInfo tracker = attempt.getTaskTracker();
+		String trackerKey = tracker.getHostName() + ":" + tracker.getPort();
+		Semaphore permits = getHostPermits(tracker.getHostName());
+		try {
+			permits.acquire();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException("Interrupted while waiting for "
+					+ tracker.getHostName());
+		}
+
+		try {
+			// Use the URL format of the tracker, if known
+			Boolean useAttemptId = trackerFormats.get(trackerKey);
+			boolean format = (useAttemptId == null) ? false : useAttemptId;
+			HttpURLConnection connection = openConnection(attempt, logFile,
+					format);
+			int code = connection.getResponseCode();
+
+			if (code != HttpURLConnection.HTTP_OK && useAttemptId == null) {
+				// This case handles backwards incompatibility introduced with
+				// Hadoop 0.20.203.0
+				discardResponse(connection);
+				format = !format;
+				connection = openConnection(attempt, logFile, format);
+				int firstCode = code;
+				code = connection.getResponseCode();
+
+				// A server error is worse than a wrong URL format
+				if (code != HttpURLConnection.HTTP_OK
+						&& firstCode >= HttpURLConnection.HTTP_INTERNAL_ERROR)
+					code = firstCode;
+			}
+
+			if (code == HttpURLConnection.HTTP_OK) {
+				if (useAttemptId == null)
+					trackerFormats.putIfAbsent(trackerKey, format);
+
+				InputStream in = connection.getInputStream();
+				try {
+					handler.handle(attempt, in);
+					drain(in);
+				} finally {
+					in.close();
+				}
+			} else {
+				discardResponse(connection);
+				if (code >= HttpURLConnection.HTTP_INTERNAL_ERROR)
+					throw new IOException("Unable to download the " + logFile
+							+ " of " + attempt.getExecId() + " from "
+							+ trackerKey + ": HTTP " + code);
+
+				LOG.debug("No " + logFile + " found for "
+						+ attempt.getExecId());
+			}
+
+		} finally {
+			permits.release();
+		}
+	}
+
+	/**
+	 * Download a log, retrying with an exponential back off on failures
+	 * 
+	 * @param attempt
+	 *            the task attempt
+	 * @param logFile
+	 *            the log file of interest
+	 * @param handler
+	 *            the log handler
+	 * @return true if the download succeeded
+	 */
+	private boolean downloadWithRetries(MRTaskAttemptInfo attempt,
+			String logFile, ITaskLogHandler handler) {
+
+		long wait = RETRY_WAIT;
+		for (int retry = 0; retry <= maxRetries; ++retry) {
+			try {
+				downloadLog(attempt, logFile, handler);
+				return true;
+			} catch (IOException e) {
+				LOG.warn("Failed to download the " + logFile + " of "
+						+ attempt.getExecId() + " (try " + (retry + 1) + "): "
+						+ e.getMessage());
+			}
+
+			if (retry < maxRetries) {
+				try {
+					Thread.sleep(wait);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					return false;
+				}
+				wait *= 2;
+			}
+		}
+
+		return false;
+	}
+
+	/**
+	 * @param hostName
+	 *            the host name
+	 * @return the connection permits of the host
+	 */
+	private Semaphore getHostPermits(String hostName) {
+		Semaphore permits = hostPermits.get(hostName);
+		if (permits == null) {
+			permits = new Semaphore(maxHostConnections);
+			Semaphore existing = hostPermits.putIfAbsent(hostName, permits);
+			if (existing != null)
+				permits = existing;
+		}
+		return permits;
+	}
+
+	/**
+	 * Order the attempts that have not been handled yet in a round robin
+	 * fashion across the hosts, so that the concurrent downloads are spread
+	 * over all the hosts.
+	 * 
+	 * @param attempts
+	 *            the task attempts
+	 * @param handler
+	 *            the log handler
+	 * @return the pending attempts
+	 */
+	private List<MRTaskAttemptInfo> interleaveByHost(
+			List<? extends MRTaskAttemptInfo> attempts,
+			ITaskLogHandler handler) {
+
+		Map<String, LinkedList<MRTaskAttemptInfo>> hostAttempts = new LinkedHashMap<String, LinkedList<MRTaskAttemptInfo>>();
+		int numPending = 0;
+		for (MRTaskAttemptInfo attempt : attempts) {
+			if (handler.isHandled(attempt))
+				continue;
+
+			String host = attempt.getTaskTracker().getHostName();
+			LinkedList<MRTaskAttemptInfo> list = hostAttempts.get(host);
+			if (list == null) {
+				list = new LinkedList<MRTaskAttemptInfo>();
+				hostAttempts.put(host, list);
+			}
+			list.add(attempt);
+			++numPending;
+		}
+
+		List<MRTaskAttemptInfo> pending = new ArrayList<MRTaskAttemptInfo>(
+				numPending);
+		while (pending.size() < numPending) {
+			for (LinkedList<MRTaskAttemptInfo> list : hostAttempts.values()) {
+				if (!list.isEmpty())
+					pending.add(list.removeFirst());
+			}
+		}
+
+		return pending;
+	}
+
+	/**
+	 * Open an HTTP connection to the log file of a task attempt
+	 * 
+	 * @param attempt
+	 *            the task attempt
+	 * @param logFile
+	 *            the log file of interest
+	 * @param useAttemptId
+	 *            whether to use attemptid or taskid
+	 * @return the connection
+	 * @throws IOException
+	 */
+	private HttpURLConnection openConnection(MRTaskAttemptInfo attempt,
+			String logFile, boolean useAttemptId) throws IOException {
+		URL taskLogUrl = buildHttpTaskLogUrl(attempt, logFile, useAttemptId);
+		HttpURLConnection connection = (HttpURLConnection) taskLogUrl
+				.openConnection();
+		connection.setConnectTimeout(timeout);
+		connection.setReadTimeout(timeout);
+		return connection;
+	}
+
+	/**
+	 * Read and close the rest of a stream
+	 * 
+	 * @param in
+	 *            the input stream
+	 * @throws IOException
+	 */
+	private static void drain(InputStream in) throws IOException {
+		try {
+			byte[] buffer = new byte[BUFFER_SIZE];
+			while (in.read(buffer) >= 0)
+				;
+		} finally {
+			in.close();
+		}
+	}
+
+}
@@ -170,6 +170,39 @@ public class MRJobHistoryLoader {
 		return mrJobInfo;
 	}
 
+	/**
+	 * @return the path to the job statistics (history) file
+	 */
+	public String getJobStatFile() {
+		return jobStatFile;
+	}
+
+	/**
+	 * @return true if the job's attributes have been loaded
+	 */
+	public boolean isSummaryDataLoaded() {
+		return summaryDataLoaded;
+	}
+
+	/**
+	 * Sets the job's attributes (no task data) from an already known summary,
+	 * e.g., from a summary index, so that the statistics file does not need to
+	 * be parsed for them.
+	 * 
+	 * @param summary
+	 *            the job with the summary data
+	 */
+	public void setMRJobInfoSummary(MRJobInfo summary) {
+		mrJobInfo.setExecId(summary.getExecId());
+		mrJobInfo.setName(summary.getName());
+		mrJobInfo.setUser(summary.getUser());
+		mrJobInfo.setStartTime(summary.getStartTime());
+		mrJobInfo.setEndTime(summary.getEndTime());
+		mrJobInfo.setStatus(summary.getStatus());
+		mrJobInfo.setErrorMsg(summary.getErrorMsg());
+		summaryDataLoaded = true;
+	}
+
 	/**
 	 * Returns the hadoop configuration containing all the hadoop parameters
 	 * used during this job execution.
@@ -4,11 +4,12 @@ import java.io.File;
 
 import edu.duke.starfish.profile.profileinfo.execution.jobs.MRJobInfo;
 import edu.duke.starfish.profile.profileinfo.execution.profile.MRJobProfile;
-import edu.duke.starfish.profile.utils.XMLProfileParser;
+import edu.duke.starfish.profile.utils.ProfileUtils;
 
 /**
- * This class is responsible for parsing the XML job profile file for a job and
- * populating the job profile.
+ * This class is responsible for parsing the job profile file for a job and
+ * populating the job profile. The binary profile file is preferred over the
+ * XML profile file when it is up to date.
  * 
  * @author hero
  */
@@ -86,24 +87,21 @@ public class MRJobProfileLoader {
 			return false;
 		}
 
-		// Get the adjusted job profile file
+		// Get the adjusted job profile file (binary or XML)
 		boolean success = false;
 		String jobId = mrJob.getExecId();
-		File adjProfileXML = new File(jobProfDir, "adj_profile_" + jobId
-				+ ".xml");
-		if (adjProfileXML.exists()) {
-			MRJobProfile jobProfile = XMLProfileParser
-					.importJobProfile(adjProfileXML);
-			mrJob.setAdjProfile(jobProfile);
-			mrJob.setProfile(jobProfile);
+		MRJobProfile adjProfile = ProfileUtils.loadJobProfile(new File(
+				jobProfDir, "adj_profile_" + jobId + ".xml"));
+		if (adjProfile != null) {
+			mrJob.setAdjProfile(adjProfile);
+			mrJob.setProfile(adjProfile);
 			success = true;
 		}
 
-		// Get the regular job profile file
-		File profileXML = new File(jobProfDir, "profile_" + jobId + ".xml");
-		if (profileXML.exists()) {
-			MRJobProfile jobProfile = XMLProfileParser
-					.importJobProfile(profileXML);
+		// Get the regular job profile file (binary or XML)
+		MRJobProfile jobProfile = ProfileUtils.loadJobProfile(new File(
+				jobProfDir, "profile_" + jobId + ".xml"));
+		if (jobProfile != null) {
 			mrJob.setProfile(jobProfile);
 			success = true;
 		}
@@ -8,22 +8,35 @@ import java.io.IOException;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import edu.duke.starfish.profile.profileinfo.execution.MRExecutionStatus;
 import edu.duke.starfish.profile.profileinfo.execution.jobs.MRJobInfo;
 import edu.duke.starfish.profile.profileinfo.execution.mrtaskattempts.MRMapAttemptInfo;
 import edu.duke.starfish.profile.profileinfo.execution.mrtaskattempts.MRReduceAttemptInfo;
 import edu.duke.starfish.profile.profileinfo.metrics.DataTransfer;
+import edu.duke.starfish.profile.utils.DaemonThreadFactory;
 
 /**
  * Represents the data transfers for a Map-Reduce job. The data transfers are
  * gathered from the logs in a lazy way i.e. only when the user tries to access
  * them.
  * 
+ * The syslogs of the reduce attempts are parsed in parallel, using a scanner
+ * for the fixed layout of the shuffle log lines instead of regular
+ * expressions. The data transfers are added to the job after all the syslogs
+ * are parsed.
+ * 
  * @author hero
  */
 public class MRJobTransfersLoader {
@@ -37,24 +50,26 @@ public class MRJobTransfersLoader {
 	private MRJobInfo mrJob; // The Map-Reduce job
 	private String inputDir; // The userlogs or the transfers directory
 	private boolean loadedData; // Whether or not the data has been loaded
+	private int numThreads; // Number of threads for parsing the syslogs
 
 	// CONSTANTS FOR PARSING
-	private static final SimpleDateFormat DATE_FORMAT = new SimpleDateFormat(
-			"yyyy-MM-dd HH:mm:ss,SSS");
-
 	private static final String SYSLOG = "syslog";
 	private static final String TRANSFERS = "transfers_";
+	private static final String THREAD_NAME = "starfish-syslog-parser-";
+
+	private static final String REDUCE_TASK = "org.apache.hadoop.mapred.ReduceTask: ";
+	private static final String SHUFFLING = "Shuffling";
+	private static final String READ_SHUFFLE = "Read";
+	private static final String FAILED_SHUFFLE = "Failed to shuffle from";
 
-	private static final String INFO_SHUFFLING = "org.apache.hadoop.mapred.ReduceTask: Shuffling";
-	private static final String INFO_READ_SHUFFLE = "org.apache.hadoop.mapred.ReduceTask: Read";
-	private static final String INFO_FAILED_SHUFFLE = "org.apache.hadoop.mapred.ReduceTask: Failed to shuffle from";
+	private static final String INFO = "INFO ";
+	private static final String DEBUG = "DEBUG ";
+	private static final String BYTES = " bytes (";
+	private static final String RAW_BYTES = " raw bytes)";
+	private static final String FROM = " from ";
+	private static final String FOR = " for ";
 
-	private static final Pattern SHUFFLE_PATTERN = Pattern
-			.compile("([\\d-:, ]+) (INFO|DEBUG) .* (\\d+) bytes \\((\\d+) raw bytes\\) .* from ([\\w\\d_]+)");
-	private static final Pattern READ_PATTERN = Pattern
-			.compile("([\\d-:, ]+) (INFO|DEBUG) .* for ([\\w\\d_]+)");
-	private static final Pattern FAILED_PATTERN = Pattern
-			.compile("([\\d-:, ]+) (INFO|DEBUG) .* from ([\\w\\d_]+)");
+	private static final TimestampDecoder TIMESTAMPS = new TimestampDecoder();
 
 	/**
 	 * Constructor
@@ -65,9 +80,25 @@ public class MRJobTransfersLoader {
 	 *            the path to the userlogs or transfers directory
 	 */
 	public MRJobTransfersLoader(MRJobInfo mrJob, String inputDir) {
+		this(mrJob, inputDir, Runtime.getRuntime().availableProcessors());
+	}
+
+	/**
+	 * Constructor
+	 * 
+	 * @param mrJob
+	 *            the Map-Reduce job
+	 * @param inputDir
+	 *            the path to the userlogs or transfers directory
+	 * @param numThreads
+	 *            the number of threads for parsing the syslogs
+	 */
+	public MRJobTransfersLoader(MRJobInfo mrJob, String inputDir,
+			int numThreads) {
 		this.mrJob = mrJob;
 		this.inputDir = inputDir;
 		this.loadedData = false;
+		this.numThreads = (numThreads < 1) ? 1 : numThreads;
 	}
 
 	/* ***************************************************************
@@ -123,20 +154,21 @@ public class MRJobTransfersLoader {
 		}
 
 		// Parse the syslog for each successful reduce attempt
-		boolean success = false;
-		List<DataTransfer> reducerTransfers;
-		for (MRReduceAttemptInfo mrReduceAttempt : mrJob
-				.getReduceAttempts(MRExecutionStatus.SUCCESS)) {
+		List<List<DataTransfer>> allTransfers;
+		try {
+			allTransfers = parseReducerSyslogs(filesDir, mrJob
+					.getReduceAttempts(MRExecutionStatus.SUCCESS));
+		} catch (ParseException e) {
+			e.printStackTrace();
+			return false;
+		}
 
-			try {
-				reducerTransfers = parseReducerSyslog(filesDir, mrReduceAttempt);
-				if (reducerTransfers != null && !reducerTransfers.isEmpty()) {
-					success = true;
-					mrJob.addDataTransfers(reducerTransfers);
-				}
-			} catch (ParseException e) {
-				e.printStackTrace();
-				return false;
+		// Add the data transfers to the job
+		boolean success = false;
+		for (List<DataTransfer> reducerTransfers : allTransfers) {
+			if (reducerTransfers != null && !reducerTransfers.isEmpty()) {
+				success = true;
+				mrJob.addDataTransfers(reducerTransfers);
 			}
 		}
 
@@ -150,6 +182,66 @@ public class MRJobTransfersLoader {
 	 * ***************************************************************
 	 */
 
+	/**
+	 * Parses the syslogs of the reduce attempts using a bounded pool of
+	 * threads.
+	 * 
+	 * @param logsDir
+	 *            the userlogs or transfers directory with the log files
+	 * @param mrReduceAttempts
+	 *            the destination reduce attempts
+	 * @return the lists of data transfers to the reduce attempts, in the same
+	 *         order as the attempts (null for the missing or invalid syslogs)
+	 * @throws ParseException
+	 */
+	private List<List<DataTransfer>> parseReducerSyslogs(final File logsDir,
+			List<MRReduceAttemptInfo> mrReduceAttempts) throws ParseException {
+		List<List<DataTransfer>> allTransfers = new ArrayList<List<DataTransfer>>(
+				mrReduceAttempts.size());
+
+		int poolSize = Math.min(numThreads, mrReduceAttempts.size());
+		if (poolSize <= 1) {
+			// No need for extra threads
+			for (MRReduceAttemptInfo mrReduceAttempt : mrReduceAttempts)
+				allTransfers.add(parseReducerSyslog(logsDir, mrReduceAttempt));
+			return allTransfers;
+		}
+
+		// Each syslog is parsed by exactly one task
+		List<Callable<List<DataTransfer>>> tasks = new ArrayList<Callable<List<DataTransfer>>>(
+				mrReduceAttempts.size());
+		for (final MRReduceAttemptInfo mrReduceAttempt : mrReduceAttempts) {
+			tasks.add(new Callable<List<DataTransfer>>() {
+				public List<DataTransfer> call() throws ParseException {
+					return parseReducerSyslog(logsDir, mrReduceAttempt);
+				}
+			});
+		}
+
+		ExecutorService executor = Executors.newFixedThreadPool(poolSize,
+				new DaemonThreadFactory(THREAD_NAME));
+		try {
+			for (Future<List<DataTransfer>> future : executor.invokeAll(tasks))
+				allTransfers.add(future.get());
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new RuntimeException(
+					"ERROR: Interrupted while parsing the reducer syslogs", e);
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof ParseException)
+				throw (ParseException) cause;
+			if (cause instanceof RuntimeException)
+				throw (RuntimeException) cause;
+			throw new RuntimeException(
+					"ERROR: Failed to parse the reducer syslogs", cause);
+		} finally {
+			executor.shutdown();
+		}
+
+		return allTransfers;
+	}
+
 	/**
 	 * Parses the syslog for a reduce attempt and constructs a list with all the
 	 * data transfers to this reduce attempt. Only successful data transfers are
@@ -199,13 +291,31 @@ public class MRJobTransfersLoader {
 			String line = br.readLine();
 			while (line != null) {
 
-				if (line.contains(INFO_SHUFFLING)) {
+				// Only the reduce task lines are interesting
+				int pos = line.indexOf(REDUCE_TASK);
+				int tsEnd = (pos < 0) ? -1 : getTimestampEnd(line, pos);
+				pos += REDUCE_TASK.length();
+
+				if (tsEnd < 0) {
+					// Not a shuffle line
+
+				} else if (line.startsWith(SHUFFLING, pos)) {
 
 					// A new transfer is beginning
-					Matcher matcher = SHUFFLE_PATTERN.matcher(line);
-					if (matcher.find()) {
+					// Format: Shuffling <n> bytes (<n> raw bytes) ... from <id>
+					int bytesPos = line.indexOf(BYTES, pos);
+					int rawStart = bytesPos + BYTES.length();
+					int rawEnd = (bytesPos < 0) ? -1 : line.indexOf(RAW_BYTES,
+							rawStart);
+					long comprData = (bytesPos < 0) ? -1 : parseLong(line,
+							getNumberStart(line, bytesPos), bytesPos);
+					long rawData = (rawEnd < 0) ? -1 : parseLong(line,
+							rawStart, rawEnd);
+					String mapAttemptId = parseIdAfter(line, FROM, pos);
+
+					if (comprData >= 0 && rawData >= 0
+							&& mapAttemptId != null) {
 						// Find the transfer source (map task attempt)
-						String mapAttemptId = matcher.group(5);
 						MRMapAttemptInfo mrMapAttempt = mrJob
 								.findMRMapAttempt(mapAttemptId);
 						if (mrMapAttempt == null) {
@@ -217,11 +327,9 @@ public class MRJobTransfersLoader {
 
 						// Create the data transfer
 						DataTransfer transfer = new DataTransfer(mrMapAttempt,
-								mrReduceAttempt, Long.parseLong(matcher
-										.group(4)), Long.parseLong(matcher
-										.group(3)));
-						transfer.setStartTime(DATE_FORMAT.parse(matcher
-								.group(1)));
+								mrReduceAttempt, rawData, comprData);
+						transfer.setStartTime(TIMESTAMPS.decode(line
+								.substring(0, tsEnd)));
 
 						// Keep track of this started data transfer
 						startedTransfers.put(mapAttemptId, transfer);
@@ -235,13 +343,13 @@ public class MRJobTransfersLoader {
 						System.err.println(line);
 					}
 
-				} else if (line.contains(INFO_READ_SHUFFLE)) {
+				} else if (line.startsWith(READ_SHUFFLE, pos)) {
 
 					// A transfer completed
-					Matcher matcher = READ_PATTERN.matcher(line);
-					if (matcher.find()) {
+					// Format: Read <n> bytes from map-output for <id>
+					String mapAttemptId = parseIdAfter(line, FOR, pos);
+					if (mapAttemptId != null) {
 						// Find the data transfer in the map
-						String mapAttemptId = matcher.group(3);
 						if (emptyTransfers.containsKey(mapAttemptId)) {
 							// Found an empty transfer, remove it from the cache
 							emptyTransfers.remove(mapAttemptId);
@@ -250,8 +358,8 @@ public class MRJobTransfersLoader {
 						} else if (startedTransfers.containsKey(mapAttemptId)) {
 							DataTransfer dataTransfer = startedTransfers
 									.get(mapAttemptId);
-							dataTransfer.setEndTime(DATE_FORMAT.parse(matcher
-									.group(1)));
+							dataTransfer.setEndTime(TIMESTAMPS.decode(line
+									.substring(0, tsEnd)));
 
 							// Mark the data transfer as completed
 							startedTransfers.remove(mapAttemptId);
@@ -267,13 +375,13 @@ public class MRJobTransfersLoader {
 						System.err.println(line);
 					}
 
-				} else if (line.contains(INFO_FAILED_SHUFFLE)) {
+				} else if (line.startsWith(FAILED_SHUFFLE, pos)) {
 
 					// A transfer failed
-					Matcher matcher = FAILED_PATTERN.matcher(line);
-					if (matcher.find()) {
+					// Format: Failed to shuffle from <id>
+					String mapAttemptId = parseIdAfter(line, FROM, pos);
+					if (mapAttemptId != null) {
 						// Find and remove the data transfer from the map
-						String mapAttemptId = matcher.group(3);
 						if (startedTransfers.containsKey(mapAttemptId)) {
 							startedTransfers.remove(mapAttemptId);
 							emptyTransfers.remove(mapAttemptId);
@@ -296,9 +404,192 @@ public class MRJobTransfersLoader {
 		} catch (IOException e) {
 			e.printStackTrace();
 			return null;
+		} finally {
+			try {
+				br.close();
+			} catch (IOException e) {
+			}
 		}
 
 		return completedTransfers;
 	} // End parseReducerSyslog
 
+	/**
+	 * Find the end of the timestamp at the beginning of a log line. The
+	 * timestamp consists of a date and a time, and is followed by the INFO or
+	 * DEBUG log level.
+	 * 
+	 * @param line
+	 *            the log line
+	 * @param limit
+	 *            the position the timestamp must end before
+	 * @return the end of the timestamp, or -1 if the line has no timestamp
+	 */
+	private static int getTimestampEnd(String line, int limit) {
+		int end = line.indexOf(' ');
+		if (end < 0)
+			return -1;
+		end = line.indexOf(' ', end + 1);
+		if (end < 0 || end >= limit)
+			return -1;
+
+		if (line.startsWith(INFO, end + 1) || line.startsWith(DEBUG, end + 1))
+			return end;
+		else
+			return -1;
+	}
+
+	/**
+	 * @param line
+	 *            the log line
+	 * @param end
+	 *            the end of a number
+	 * @return the start of the number that ends at the given position
+	 */
+	private static int getNumberStart(String line, int end) {
+		int start = end;
+		while (start > 0 && Character.isDigit(line.charAt(start - 1)))
+			--start;
+		return start;
+	}
+
+	/**
+	 * @param line
+	 *            the log line
+	 * @param start
+	 *            the start of the number (inclusive)
+	 * @param end
+	 *            the end of the number (exclusive)
+	 * @return the non-negative number, or -1 if the characters are not digits
+	 */
+	private static long parseLong(String line, int start, int end) {
+		if (start >= end || end - start > 18)
+			return -1;
+
+		long value = 0;
+		for (int i = start; i < end; ++i) {
+			char c = line.charAt(i);
+			if (c < '0' || c > '9')
+				return -1;
+			value = value * 10 + (c - '0');
+		}
+		return value;
+	}
+
+	/**
+	 * Parse the task attempt id that follows the last occurrence of a marker
+	 * 
+	 * @param line
+	 *            the log line
+	 * @param marker
+	 *            the marker before the id
+	 * @param from
+	 *            the position to look for the marker from
+	 * @return the attempt id, or null if the marker or the id is missing
+	 */
+	private static String parseIdAfter(String line, String marker, int from) {
+		int pos = line.lastIndexOf(marker);
+		if (pos < from)
+			return null;
+
+		int start = pos + marker.length();
+		int end = start;
+		while (end < line.length()
+				&& (Character.isLetterOrDigit(line.charAt(end)) || line
+						.charAt(end) == '_'))
+			++end;
+
+		return (end > start) ? line.substring(start, end) : null;
+	}
+
+	/* ***************************************************************
+	 * PRIVATE CLASSES
+	 * ***************************************************************
+	 */
+
+	/**
+	 * Decodes the log timestamps of the form "yyyy-MM-dd HH:mm:ss,SSS". The
+	 * start of each hour is computed once and cached, so decoding a timestamp
+	 * only needs to parse the minutes, seconds, and milliseconds. Other
+	 * timestamp forms are parsed with a date format. The decoder is
+	 * thread-safe.
+	 * 
+	 * @author hero
+	 */
+	private static class TimestampDecoder {
+
+		private static final String FORMAT = "yyyy-MM-dd HH:mm:ss,SSS";
+		private static final int HOUR_LENGTH = 13; // Length of yyyy-MM-dd HH
+
+		// The start of each hour in ms, by yyyy-MM-dd HH
+		private ConcurrentMap<String, Long> hourStarts = new ConcurrentHashMap<String, Long>();
+
+		// The date format for the other timestamp forms
+		private ThreadLocal<SimpleDateFormat> dateFormat = new ThreadLocal<SimpleDateFormat>() {
+			@Override
+			protected SimpleDateFormat initialValue() {
+				return new SimpleDateFormat(FORMAT);
+			}
+		};
+
+		/**
+		 * @param timestamp
+		 *            the timestamp
+		 * @return the date
+		 * @throws ParseException
+		 */
+		public Date decode(String timestamp) throws ParseException {
+			if (!hasLayout(timestamp))
+				return dateFormat.get().parse(timestamp);
+
+			String hour = timestamp.substring(0, HOUR_LENGTH);
+			Long hourStart = hourStarts.get(hour);
+			if (hourStart == null) {
+				hourStart = getHourStart(timestamp);
+				hourStarts.putIfAbsent(hour, hourStart);
+			}
+
+			long minutes = parseLong(timestamp, 14, 16);
+			long seconds = parseLong(timestamp, 17, 19);
+			long millis = parseLong(timestamp, 20, 23);
+			return new Date(hourStart + minutes * 60000l + seconds * 1000l
+					+ millis);
+		}
+
+		/**
+		 * @param timestamp
+		 *            the timestamp
+		 * @return true if the timestamp has the layout yyyy-MM-dd HH:mm:ss,SSS
+		 *         with valid minutes and seconds
+		 */
+		private boolean hasLayout(String timestamp) {
+			if (timestamp.length() != FORMAT.length())
+				return false;
+
+			for (int i = 0; i < FORMAT.length(); ++i) {
+				char f = FORMAT.charAt(i);
+				char c = timestamp.charAt(i);
+				if (Character.isLetter(f) ? (c < '0' || c > '9') : c != f)
+					return false;
+			}
+
+			return parseLong(timestamp, 14, 16) < 60
+					&& parseLong(timestamp, 17, 19) < 60;
+		}
+
+		/**
+		 * @param timestamp
+		 *            a timestamp with the layout yyyy-MM-dd HH:mm:ss,SSS
+		 * @return the start of the hour of the timestamp in ms
+		 */
+		private long getHourStart(String timestamp) {
+			Calendar calendar = Calendar.getInstance();
+			calendar.clear();
+			calendar.set((int) parseLong(timestamp, 0, 4), (int) parseLong(
+					timestamp, 5, 7) - 1, (int) parseLong(timestamp, 8, 10),
+					(int) parseLong(timestamp, 11, 13), 0, 0);
+			return calendar.getTimeInMillis();
+		}
+	}
+
 }
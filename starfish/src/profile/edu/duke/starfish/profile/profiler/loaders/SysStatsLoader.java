@@ -2,14 +2,18 @@ package edu.duke.starfish.profile.profiler.loaders;
 
 import java.io.BufferedReader;
 import java.io.File;
-import java.io.FileNotFoundException;
 import java.io.FileReader;
 import java.io.IOException;
 import java.io.PrintStream;
+import java.util.ArrayList;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.regex.Pattern;
+
+import edu.duke.starfish.profile.profileinfo.metrics.Metric;
+import edu.duke.starfish.profile.profileinfo.metrics.MetricSeries;
+import edu.duke.starfish.profile.profileinfo.metrics.MetricType;
 
 /**
  * This class is responsible for parsing monitoring files containing iostat and
@@ -17,6 +21,10 @@ import java.util.regex.Pattern;
  * conventions "iostat_output-NODE" and "vmstat_output-NODE", where NODE is the
  * actual node name.
  * 
+ * The files of each node are parsed once, the first time the statistics of
+ * the node are requested, into time-indexed columnar series. The statistics
+ * for a time range are then found with a binary search.
+ * 
  * @author hero
  */
 public class SysStatsLoader {
@@ -31,6 +39,7 @@ public class SysStatsLoader {
 
 	private Map<String, File> ioStatFiles; // Maps node names to iostat files
 	private Map<String, File> vmStatFiles; // Maps node names to vmstat files
+	private Map<String, NodeStats> nodeStats; // Maps node names to statistics
 
 	// CONSTANTS
 	private final String IOSTAT_PREFIX = "iostat_output-";
@@ -41,7 +50,11 @@ public class SysStatsLoader {
 	private final String TAB = "\t";
 	private final String SW = "sw";
 
-	private final Pattern p = Pattern.compile("\\s+"); // Empty space
+	// The columns of the series
+	private static final int CPU_IDLE = 3;
+	private static final int MEM_FREE = 1;
+	private static final int IO_READ = 0;
+	private static final int IO_WRITE = 1;
 
 	/**
 	 * Constructor
@@ -53,6 +66,7 @@ public class SysStatsLoader {
 		this.monitorDir = monitorDir;
 		this.ioStatFiles = new HashMap<String, File>();
 		this.vmStatFiles = new HashMap<String, File>();
+		this.nodeStats = new HashMap<String, NodeStats>();
 
 		readMonitorDirectory();
 	}
@@ -93,8 +107,7 @@ public class SysStatsLoader {
 	 */
 	public boolean exportCPUStats(PrintStream out, String nodeName, Date start,
 			Date end) {
-		return exportCPUStats(out, nodeName, start.getTime() / 1000, end
-				.getTime() / 1000);
+		return exportCPUStats(out, nodeName, toSeconds(start), toSeconds(end));
 	}
 
 	/**
@@ -128,8 +141,8 @@ public class SysStatsLoader {
 	 */
 	public boolean exportMemoryStats(PrintStream out, String nodeName,
 			Date start, Date end) {
-		return exportMemoryStats(out, nodeName, start.getTime() / 1000, end
-				.getTime() / 1000);
+		return exportMemoryStats(out, nodeName, toSeconds(start),
+				toSeconds(end));
 	}
 
 	/**
@@ -163,8 +176,74 @@ public class SysStatsLoader {
 	 */
 	public boolean exportIOStats(PrintStream out, String nodeName, Date start,
 			Date end) {
-		return exportIOStats(out, nodeName, start.getTime() / 1000, end
-				.getTime() / 1000);
+		return exportIOStats(out, nodeName, toSeconds(start), toSeconds(end));
+	}
+
+	/**
+	 * Get the metrics of a node between dates start and end. The supported
+	 * metric types are:
+	 * <ul>
+	 * <li>CPU: the CPU utilization as a percentage (100 - %idle)</li>
+	 * <li>MEMORY: the free memory in MB (vmstat does not report the total
+	 * memory)</li>
+	 * <li>DISK_READS: the MB read per second</li>
+	 * <li>DISK_WRITES: the MB written per second</li>
+	 * </ul>
+	 * 
+	 * @param type
+	 *            the metric type
+	 * @param nodeName
+	 *            the node name
+	 * @param start
+	 *            the start date (null for no bound)
+	 * @param end
+	 *            the end date (null for no bound)
+	 * @return the metrics sorted by time, or null if there is no data for the
+	 *         node and metric type
+	 */
+	public List<Metric> getHostMetrics(MetricType type, String nodeName,
+			Date start, Date end) {
+		NodeStats stats = getNodeStats(nodeName);
+		if (stats == null)
+			return null;
+
+		long startTime = (start == null) ? Long.MIN_VALUE : start.getTime();
+		long endTime = (end == null) ? Long.MAX_VALUE : end.getTime();
+
+		switch (type) {
+		case CPU:
+			if (stats.cpu == null)
+				return null;
+			List<Metric> idle = stats.cpu.getMetrics(CPU_IDLE, startTime,
+					endTime);
+			List<Metric> cpu = new ArrayList<Metric>(idle.size());
+			for (Metric metric : idle)
+				cpu.add(new Metric(metric.getTime(), 100d - metric.getValue()));
+			return cpu;
+
+		case MEMORY:
+			if (stats.memory == null)
+				return null;
+			List<Metric> free = stats.memory.getMetrics(MEM_FREE, startTime,
+					endTime);
+			List<Metric> memory = new ArrayList<Metric>(free.size());
+			for (Metric metric : free)
+				memory.add(new Metric(metric.getTime(),
+						metric.getValue() / 1024d));
+			return memory;
+
+		case DISK_READS:
+			return (stats.io == null) ? null : stats.io.getMetrics(IO_READ,
+					startTime, endTime);
+
+		case DISK_WRITES:
+			return (stats.io == null) ? null : stats.io.getMetrics(IO_WRITE,
+					startTime, endTime);
+
+		default:
+			// We don't have such data
+			return null;
+		}
 	}
 
 	/* ***************************************************************
@@ -191,53 +270,14 @@ public class SysStatsLoader {
 			long start, long end) {
 
 		// Ensure we have such a file
-		if (!ioStatFiles.containsKey(nodeName)) {
+		NodeStats stats = getNodeStats(nodeName);
+		if (stats == null || stats.cpu == null) {
 			System.err.println("Unable to find a file for node " + nodeName);
 			return false;
 		}
 
-		try {
-			BufferedReader input = new BufferedReader(new FileReader(
-					ioStatFiles.get(nodeName)));
-
-			// Parse the file
-			String line = null;
-			out.println("time\t%user\t%system\t%iowait\t%idle");
-			while ((line = input.readLine()) != null) {
-				if (line.contains(AVG_CPU)) {
-
-					// The next line contains the data
-					line = input.readLine();
-					if (line != null) {
-						// Line: time %user %nice %system %iowait %steal %idle
-						String[] pieces = p.split(line);
-						if (pieces.length == 7
-								&& satisfyBounds(pieces[0], start, end)) {
-							out.print(pieces[0]);
-							out.print(TAB);
-							out.print(pieces[1]);
-							out.print(TAB);
-							out.print(pieces[3]);
-							out.print(TAB);
-							out.print(pieces[4]);
-							out.print(TAB);
-							out.println(pieces[6]);
-						}
-					}
-				}
-
-			}
-
-			// Close the input file
-			input.close();
-		} catch (FileNotFoundException e) {
-			e.printStackTrace();
-			return false;
-		} catch (IOException e) {
-			e.printStackTrace();
-			return false;
-		}
-
+		out.println("time\t%user\t%system\t%iowait\t%idle");
+		exportSeries(out, stats.cpu, start, end);
 		return true;
 	}
 
@@ -260,44 +300,14 @@ public class SysStatsLoader {
 			long start, long end) {
 
 		// Ensure we have such a file
-		if (!vmStatFiles.containsKey(nodeName)) {
+		NodeStats stats = getNodeStats(nodeName);
+		if (stats == null || stats.memory == null) {
 			System.err.println("Unable to find a file for node " + nodeName);
 			return false;
 		}
 
-		try {
-			File file = vmStatFiles.get(nodeName);
-			BufferedReader input = new BufferedReader(new FileReader(file));
-
-			// Parse the file
-			String line = null;
-			out.println("time\tswpd\tfree\tbuff\tcache");
-			while ((line = input.readLine()) != null) {
-				// Line: time r b swpd free buff cache si <others>
-				String[] pieces = p.split(line);
-				if (!line.contains(SW) && pieces.length == 17
-						&& satisfyBounds(pieces[0], start, end)) {
-					out.print(pieces[0]);
-					out.print(TAB);
-					out.print(pieces[3]);
-					out.print(TAB);
-					out.print(pieces[4]);
-					out.print(TAB);
-					out.print(pieces[5]);
-					out.print(TAB);
-					out.println(pieces[6]);
-				}
-
-			}
-			input.close();
-		} catch (FileNotFoundException e) {
-			e.printStackTrace();
-			return false;
-		} catch (IOException e) {
-			e.printStackTrace();
-			return false;
-		}
-
+		out.println("time\tswpd\tfree\tbuff\tcache");
+		exportSeries(out, stats.memory, start, end);
 		return true;
 	}
 
@@ -320,51 +330,220 @@ public class SysStatsLoader {
 			long end) {
 
 		// Ensure we have such a file
-		if (!ioStatFiles.containsKey(nodeName)) {
+		NodeStats stats = getNodeStats(nodeName);
+		if (stats == null || stats.io == null) {
 			System.err.println("Unable to find a file for node " + nodeName);
 			return false;
 		}
 
+		out.println("time\tMBRead/s\tMBWrite/s");
+		exportSeries(out, stats.io, start, end);
+		return true;
+	}
+
+	/**
+	 * Export the records of a series without a time, followed by the records
+	 * between times start and end inclusive (epoch time in seconds)
+	 * 
+	 * @param out
+	 *            the print stream to write to
+	 * @param series
+	 *            the series to export
+	 * @param start
+	 *            the start time in seconds
+	 * @param end
+	 *            the end time in seconds
+	 */
+	private void exportSeries(PrintStream out, MetricSeries series,
+			long start, long end) {
+		// The records without a time are always exported
+		int numUntimed = series.getNumUntimed();
+		for (int row = 0; row < numUntimed; ++row)
+			exportRecord(out, series, row);
+
+		int first = Math.max(numUntimed, series.getFirstRow(toMillis(start)));
+		int last = series.getEndRow(toMillis(end));
+		for (int row = first; row < last; ++row)
+			exportRecord(out, series, row);
+	}
+
+	/**
+	 * Export a record of a series in a tabular format
+	 * 
+	 * @param out
+	 *            the print stream to write to
+	 * @param series
+	 *            the series
+	 * @param row
+	 *            the record index
+	 */
+	private void exportRecord(PrintStream out, MetricSeries series, int row) {
+		long time = series.getTime(row);
+		out.print(time == MetricSeries.NO_TIME ? EMPTY : Long
+				.toString(time / 1000));
+		for (int c = 0; c < series.getNumColumns(); ++c) {
+			out.print(TAB);
+			out.print(series.formatValue(c, row));
+		}
+		out.println();
+	}
+
+	/**
+	 * Get the statistics of a node, parsing the monitoring files of the node
+	 * the first time
+	 * 
+	 * @param nodeName
+	 *            the node name
+	 * @return the node statistics, or null if the node has no files
+	 */
+	private synchronized NodeStats getNodeStats(String nodeName) {
+		if (nodeStats.containsKey(nodeName))
+			return nodeStats.get(nodeName);
+
+		NodeStats stats = null;
+		if (ioStatFiles.containsKey(nodeName)
+				|| vmStatFiles.containsKey(nodeName)) {
+			stats = new NodeStats();
+			if (ioStatFiles.containsKey(nodeName))
+				loadIOStatFile(ioStatFiles.get(nodeName), stats);
+			if (vmStatFiles.containsKey(nodeName))
+				loadVMStatFile(vmStatFiles.get(nodeName), stats);
+		}
+
+		nodeStats.put(nodeName, stats);
+		return stats;
+	}
+
+	/**
+	 * Parse an iostat file into the CPU and IO series of a node
+	 * 
+	 * @param file
+	 *            the iostat file
+	 * @param stats
+	 *            the node statistics
+	 */
+	private void loadIOStatFile(File file, NodeStats stats) {
+		MetricSeries cpu = new MetricSeries("%user", "%system", "%iowait",
+				"%idle");
+		MetricSeries io = new MetricSeries("MBRead/s", "MBWrite/s");
+		List<String> pieces = new ArrayList<String>(16);
+
 		try {
-			BufferedReader input = new BufferedReader(new FileReader(
-					ioStatFiles.get(nodeName)));
-
-			// Parse the file
-			String line = null;
-			boolean hasTime = false;
-			out.println("time\tMBRead/s\tMBWrite/s");
-			while ((line = input.readLine()) != null) {
-				if (line.contains(DEVICE)) {
-
-					// The next line contains the data
-					line = input.readLine();
-					if (line != null) {
-						// Line: time sda2 tps MB_read/s MB_wrtn/s <others>
-						String[] pieces = p.split(line);
-						if (pieces.length == 6
-								|| (pieces.length == 7 && satisfyBounds(
-										pieces[0], start, end))) {
-							hasTime = pieces.length == 7;
-							out.print(hasTime ? pieces[0] : EMPTY);
-							out.print(TAB);
-							out.print(hasTime ? pieces[3] : pieces[2]);
-							out.print(TAB);
-							out.println(hasTime ? pieces[4] : pieces[3]);
+			BufferedReader input = new BufferedReader(new FileReader(file));
+			try {
+				String line = null;
+				while ((line = input.readLine()) != null) {
+					if (line.contains(AVG_CPU)) {
+
+						// The next line contains the data
+						line = input.readLine();
+						if (line != null) {
+							// Line: time %user %nice %system %iowait %steal
+							// %idle
+							split(line, pieces);
+							if (pieces.size() == 7)
+								addRecord(cpu, pieces.get(0), pieces, 1, 3, 4,
+										6);
+						}
+					} else if (line.contains(DEVICE)) {
+
+						// The next line contains the data
+						line = input.readLine();
+						if (line != null) {
+							// Line: time sda2 tps MB_read/s MB_wrtn/s <others>
+							split(line, pieces);
+							if (pieces.size() == 6)
+								addRecord(io, EMPTY, pieces, 2, 3);
+							else if (pieces.size() == 7)
+								addRecord(io, pieces.get(0), pieces, 3, 4);
 						}
 					}
 				}
-
+			} finally {
+				input.close();
 			}
-			input.close();
-		} catch (FileNotFoundException e) {
+		} catch (IOException e) {
 			e.printStackTrace();
-			return false;
+			return;
+		}
+
+		cpu.trim();
+		io.trim();
+		stats.cpu = cpu;
+		stats.io = io;
+	}
+
+	/**
+	 * Parse a vmstat file into the memory series of a node
+	 * 
+	 * @param file
+	 *            the vmstat file
+	 * @param stats
+	 *            the node statistics
+	 */
+	private void loadVMStatFile(File file, NodeStats stats) {
+		MetricSeries memory = new MetricSeries("swpd", "free", "buff",
+				"cache");
+		List<String> pieces = new ArrayList<String>(20);
+
+		try {
+			BufferedReader input = new BufferedReader(new FileReader(file));
+			try {
+				String line = null;
+				while ((line = input.readLine()) != null) {
+					// Line: time r b swpd free buff cache si <others>
+					if (!line.contains(SW)) {
+						split(line, pieces);
+						if (pieces.size() == 17)
+							addRecord(memory, pieces.get(0), pieces, 3, 4, 5,
+									6);
+					}
+				}
+			} finally {
+				input.close();
+			}
 		} catch (IOException e) {
 			e.printStackTrace();
-			return false;
+			return;
 		}
 
-		return true;
+		memory.trim();
+		stats.memory = memory;
+	}
+
+	/**
+	 * Add a record to a series. Records with an invalid time or value are
+	 * ignored.
+	 * 
+	 * @param series
+	 *            the series
+	 * @param time
+	 *            the time in seconds (empty if unknown)
+	 * @param pieces
+	 *            the pieces of the line
+	 * @param indexes
+	 *            the indexes of the pieces with the values of the columns
+	 */
+	private void addRecord(MetricSeries series, String time,
+			List<String> pieces, int... indexes) {
+		try {
+			long millis = time.equals(EMPTY) ? MetricSeries.NO_TIME : Long
+					.parseLong(time) * 1000l;
+
+			double[] values = new double[indexes.length];
+			for (int c = 0; c < indexes.length; ++c)
+				values[c] = Double.parseDouble(pieces.get(indexes[c]));
+			series.add(millis, values);
+
+			for (int c = 0; c < indexes.length; ++c) {
+				String value = pieces.get(indexes[c]);
+				int dot = value.indexOf('.');
+				if (dot >= 0)
+					series.updatePrecision(c, value.length() - dot - 1);
+			}
+		} catch (NumberFormatException e) {
+			// Not a data line
+		}
 	}
 
 	/**
@@ -406,29 +585,72 @@ public class SysStatsLoader {
 	}
 
 	/**
-	 * Returns true if the string value represents a number between start and
-	 * end inclusive.
+	 * Split a line around runs of white space, like String.split("\\s+")
+	 * does: a line that starts with white space has an empty first piece.
 	 * 
-	 * @param value
-	 *            the value to check
-	 * @param start
-	 *            the start of the bound
-	 * @param end
-	 *            the end of the bound
-	 * @return true if value satisfies the bound
+	 * @param line
+	 *            the line to split
+	 * @param pieces
+	 *            the list to fill with the pieces
 	 */
-	private boolean satisfyBounds(String value, long start, long end) {
-		try {
-			// Empty string is a special case
-			if (value.equals(EMPTY))
-				return true;
-
-			// Check the bound
-			long num = Long.parseLong(value);
-			return num >= start && num <= end;
-		} catch (NumberFormatException e) {
-			return false;
+	private static void split(String line, List<String> pieces) {
+		pieces.clear();
+		int length = line.length();
+		int start = 0;
+		int i = 0;
+		while (i < length) {
+			if (Character.isWhitespace(line.charAt(i))) {
+				pieces.add(line.substring(start, i));
+				while (i < length && Character.isWhitespace(line.charAt(i)))
+					++i;
+				start = i;
+			} else {
+				++i;
+			}
 		}
+
+		if (start < length)
+			pieces.add(line.substring(start));
+		else if (pieces.size() == 1 && pieces.get(0).length() == 0)
+			pieces.clear();
+	}
+
+	/**
+	 * @param date
+	 *            the date
+	 * @return the epoch time in seconds
+	 */
+	private static long toSeconds(Date date) {
+		return date.getTime() / 1000;
+	}
+
+	/**
+	 * @param seconds
+	 *            the epoch time in seconds
+	 * @return the epoch time in ms, saturated at the long bounds
+	 */
+	private static long toMillis(long seconds) {
+		if (seconds >= Long.MAX_VALUE / 1000)
+			return Long.MAX_VALUE;
+		if (seconds <= Long.MIN_VALUE / 1000)
+			return Long.MIN_VALUE + 1;
+		return seconds * 1000l;
+	}
+
+	/* ***************************************************************
+	 * PRIVATE CLASSES
+	 * ***************************************************************
+	 */
+
+	/**
+	 * The statistics of a node (null for the missing files)
+	 * 
+	 * @author hero
+	 */
+	private static class NodeStats {
+		private MetricSeries cpu; // From iostat: user, system, iowait, idle
+		private MetricSeries memory; // From vmstat: swpd, free, buff, cache
+		private MetricSeries io; // From iostat: MB read/s, MB written/s
 	}
 
 }
@@ -1,7 +1,5 @@
 package edu.duke.starfish.profile.profiler.loaders.tasks;
 
-import java.util.List;
-
 import org.apache.hadoop.conf.Configuration;
 
 import edu.duke.starfish.profile.profileinfo.execution.profile.MRMapProfile;
@@ -30,9 +28,9 @@ public class MRMapProfileLoader extends MRTaskProfileLoader {
 	 */
 
 	// List with the profile records
-	private List<ProfileRecord> mapRecords;
-	private List<ProfileRecord> spillRecords;
-	private List<ProfileRecord> mergeRecords;
+	private ProfileRecords mapRecords;
+	private SpillGroups spillGroups;
+	private ProfileRecords mergeRecords;
 
 	// CONSTANTS FOR THE MAP PHASE
 	private static final int NUM_MAP_PHASES = 21;
@@ -93,7 +91,7 @@ public class MRMapProfileLoader extends MRTaskProfileLoader {
 
 		// Initialize all lists to be empty
 		mapRecords = EMPTY_RECORDS;
-		spillRecords = EMPTY_RECORDS;
+		spillGroups = null;
 		mergeRecords = EMPTY_RECORDS;
 	}
 
@@ -108,6 +106,13 @@ public class MRMapProfileLoader extends MRTaskProfileLoader {
 		if (!getAndValidateProfileRecords())
 			return false;
 
+		// Extrapolate the per-record values in case of record sampling
+		extrapolateRecordValues(mapRecords, getRecordSamplingFactor(),
+				POS_MAP_READ, POS_MAP_INPUT_K_BYTE_COUNT,
+				POS_MAP_INPUT_V_BYTE_COUNT, POS_MAP_MAP, POS_MAP_WRITE,
+				POS_MAP_PARTITION_OUTPUT, POS_MAP_SERIALIZE_OUTPUT,
+				POS_MAP_OUTPUT_K_BYTE_COUNT, POS_MAP_OUTPUT_V_BYTE_COUNT);
+
 		// Calculate all the profile information
 		calculateStatsAndCosts();
 		calculateTimings();
@@ -115,6 +120,14 @@ public class MRMapProfileLoader extends MRTaskProfileLoader {
 		return true;
 	}
 
+	@Override
+	protected ProfileGroups createProfileGroups(ProfileToken token) {
+		if (token == ProfileToken.SPILL)
+			return new SpillGroups(conf.getInt(MR_RED_TASKS, 1));
+		else
+			return null;
+	}
+
 	/* ***************************************************************
 	 * PRIVATE METHODS
 	 * ***************************************************************
@@ -148,30 +161,28 @@ public class MRMapProfileLoader extends MRTaskProfileLoader {
 			if (inputFormat.equals(MR_TIF) || inputFormat.equals(MR_SFTIF)
 					|| inputFormat.equals(MR_WFIF)) {
 				// Equals value size + newlines
-				mapInputBytes = mapRecords.get(POS_MAP_INPUT_V_BYTE_COUNT)
-						.getValue() + mapInputPairs;
+				mapInputBytes = mapRecords
+						.getValue(POS_MAP_INPUT_V_BYTE_COUNT)
+						+ mapInputPairs;
 			} else if (inputFormat.equals(MR_SFIF)
 					|| inputFormat.equals(MR_TSIF)
 					|| inputFormat.equals(MR_KVTIF)
 					|| inputFormat.equals(MR_KVTPIF)
 					|| inputFormat.equals(MR_WFTPIF)) {
 				// Equals key size + value size + separator + newline
-				mapInputBytes = mapRecords.get(POS_MAP_INPUT_K_BYTE_COUNT)
-						.getValue()
-						+ mapRecords.get(POS_MAP_INPUT_V_BYTE_COUNT).getValue()
+				mapInputBytes = mapRecords.getValue(POS_MAP_INPUT_K_BYTE_COUNT)
+						+ mapRecords.getValue(POS_MAP_INPUT_V_BYTE_COUNT)
 						+ 2 * mapInputPairs;
 			} else if (inputFormat.equals(MR_TBIF)) {
 				// Equals key size + value size
-				mapInputBytes = mapRecords.get(POS_MAP_INPUT_K_BYTE_COUNT)
-						.getValue()
-						+ mapRecords.get(POS_MAP_INPUT_V_BYTE_COUNT).getValue();
+				mapInputBytes = mapRecords.getValue(POS_MAP_INPUT_K_BYTE_COUNT)
+						+ mapRecords.getValue(POS_MAP_INPUT_V_BYTE_COUNT);
 				// Might not need this...
 				profile.addCounter(MRCounter.HDFS_BYTES_READ, mapInputBytes);
 
 			} else if (inputFormat.equals(PIG_PIF)) {
 				// Equals value size
-				mapInputBytes = mapRecords.get(POS_MAP_INPUT_V_BYTE_COUNT)
-						.getValue();
+				mapInputBytes = mapRecords.getValue(POS_MAP_INPUT_V_BYTE_COUNT);
 			} else {
 				// Equals HDFS input (without compression)
 				mapInputBytes = isInputCompressed() ? (long) (hdfsBytesRead / DEFAULT_COMPR_RATIO)
@@ -188,24 +199,23 @@ public class MRMapProfileLoader extends MRTaskProfileLoader {
 			if (outputFormat.equals(MR_TOF) || outputFormat.equals(MR_SFOF)
 					|| outputFormat.equals(MR_TSOF)) {
 				// Equals keys + values + separator + newline
-				mapOutputBytes = mapRecords.get(POS_MAP_OUTPUT_K_BYTE_COUNT)
-						.getValue()
-						+ mapRecords.get(POS_MAP_OUTPUT_V_BYTE_COUNT)
-								.getValue() + 2 * mapOutputPairs;
+				mapOutputBytes = mapRecords
+						.getValue(POS_MAP_OUTPUT_K_BYTE_COUNT)
+						+ mapRecords.getValue(POS_MAP_OUTPUT_V_BYTE_COUNT)
+						+ 2 * mapOutputPairs;
 			} else if (outputFormat.equals(MR_TBOF)) {
 				// Equals keys + values ... I don't think we need separator +
 				// newline because the keys and values go straight to HBase
-				mapOutputBytes = mapRecords.get(POS_MAP_OUTPUT_K_BYTE_COUNT)
-						.getValue()
-						+ mapRecords.get(POS_MAP_OUTPUT_V_BYTE_COUNT)
-								.getValue();
+				mapOutputBytes = mapRecords
+						.getValue(POS_MAP_OUTPUT_K_BYTE_COUNT)
+						+ mapRecords.getValue(POS_MAP_OUTPUT_V_BYTE_COUNT);
 
 				// Might not need this...
 				profile.addCounter(MRCounter.HDFS_BYTES_WRITTEN, mapOutputBytes);
 
 			} else {
 				// Equals HDFS output (without compression)
-				mapOutputBytes = (mapRecords.get(POS_MAP_COMPRESS).getValue() == 0) ? hdfsBytesWritten
+				mapOutputBytes = (mapRecords.getValue(POS_MAP_COMPRESS) == 0) ? hdfsBytesWritten
 						: (long) (hdfsBytesWritten / DEFAULT_COMPR_RATIO);
 			}
 
@@ -229,14 +239,14 @@ public class MRMapProfileLoader extends MRTaskProfileLoader {
 			// Cost = pure map time / number of input records
 			profile.addCostFactor(
 					MRCostFactors.MAP_CPU_COST,
-					(mapRecords.get(POS_MAP_MAP).getValue() - mapRecords.get(
-							POS_MAP_WRITE).getValue())
+					(mapRecords.getValue(POS_MAP_MAP) - mapRecords
+							.getValue(POS_MAP_WRITE))
 							/ (double) mapInputPairs);
 		}
 
 		// Calculate and cost HDFS read I/O Costs
-		double readTime = mapRecords.get(POS_MAP_READ).getValue()
-				- mapRecords.get(POS_MAP_UNCOMPRESS).getValue();
+		double readTime = mapRecords.getValue(POS_MAP_READ)
+				- mapRecords.getValue(POS_MAP_UNCOMPRESS);
 
 		// Calculate and cost HDFS read I/O Costs
 		if (hdfsBytesRead != 0) {
@@ -260,7 +270,7 @@ public class MRMapProfileLoader extends MRTaskProfileLoader {
 			if (hdfsBytesRead != 0) {
 				// Cost = time to uncompress / compressed size
 				profile.addCostFactor(MRCostFactors.INPUT_UNCOMPRESS_CPU_COST,
-						mapRecords.get(POS_MAP_UNCOMPRESS).getValue()
+						mapRecords.getValue(POS_MAP_UNCOMPRESS)
 								/ (double) hdfsBytesRead);
 			}
 		}
@@ -278,16 +288,16 @@ public class MRMapProfileLoader extends MRTaskProfileLoader {
 					// Cost = time to compress / uncompressed size
 					profile.addCostFactor(
 							MRCostFactors.OUTPUT_COMPRESS_CPU_COST,
-							(mapRecords.get(POS_MAP_COMPRESS).getValue() + mapRecords
-									.get(POS_MAP_DIR_COMPRESS).getValue())
+							(mapRecords.getValue(POS_MAP_COMPRESS) + mapRecords
+									.getValue(POS_MAP_DIR_COMPRESS))
 									/ (double) mapOutputBytes);
 				}
 			}
 
-			double writeTime = (mapRecords.get(POS_MAP_WRITE).getValue()
-					+ mapRecords.get(POS_MAP_DIR_WRITE).getValue()
-					- mapRecords.get(POS_MAP_COMPRESS).getValue() - mapRecords
-					.get(POS_MAP_DIR_COMPRESS).getValue());
+			double writeTime = (mapRecords.getValue(POS_MAP_WRITE)
+					+ mapRecords.getValue(POS_MAP_DIR_WRITE)
+					- mapRecords.getValue(POS_MAP_COMPRESS) - mapRecords
+					.getValue(POS_MAP_DIR_COMPRESS));
 
 			// Calculate and set the HDFS write I/O cost
 			if (hdfsBytesWritten != 0) {
@@ -305,9 +315,7 @@ public class MRMapProfileLoader extends MRTaskProfileLoader {
 			// Calculate and set the local I/O cost
 			profile.addCostFactor(
 					MRCostFactors.WRITE_LOCAL_IO_COST,
-					averageProfileValueDiffRatios(spillRecords,
-							NUM_SPILL_PHASES, POS_SPILL_WRITE,
-							POS_SPILL_COMPRESS, POS_SPILL_COMPRESS_BYTE_COUNT));
+					spillGroups.getAverageRatio(spillGroups.writeCost));
 
 			// Calculate and set the combiner statistics and costs
 			if (conf.get(MR_COMBINE_CLASS) != null) {
@@ -321,9 +329,7 @@ public class MRMapProfileLoader extends MRTaskProfileLoader {
 				if (mapOutputBytes != 0) {
 					profile.addStatistic(
 							MRStatistics.COMBINE_SIZE_SEL,
-							aggregateRecordValues(spillRecords,
-									NUM_SPILL_PHASES,
-									POS_SPILL_UNCOMPRESS_BYTE_COUNT)
+							spillGroups.getSum(POS_SPILL_UNCOMPRESS_BYTE_COUNT)
 									/ (double) mapOutputBytes);
 				}
 
@@ -335,16 +341,14 @@ public class MRMapProfileLoader extends MRTaskProfileLoader {
 				// Calculate and set the CPU cost for the combiner
 				profile.addCostFactor(
 						MRCostFactors.COMBINE_CPU_COST,
-						averageProfileValueDiffRatios(spillRecords,
-								NUM_SPILL_PHASES, POS_SPILL_COMBINE,
-								POS_SPILL_WRITE, POS_SPILL_SORT_COUNT));
+						spillGroups.getAverageRatio(spillGroups.combineCost));
 			}
 
 			// Calculate and set the partition CPU cost
 			if (mapOutputPairs != 0) {
 				// Cost = time to partition / number of map output records
 				profile.addCostFactor(MRCostFactors.PARTITION_CPU_COST,
-						mapRecords.get(POS_MAP_PARTITION_OUTPUT).getValue()
+						mapRecords.getValue(POS_MAP_PARTITION_OUTPUT)
 								/ (double) mapOutputPairs);
 			}
 
@@ -352,15 +356,14 @@ public class MRMapProfileLoader extends MRTaskProfileLoader {
 			if (mapOutputPairs != 0) {
 				// Cost = time to serialize / number of map output records
 				profile.addCostFactor(MRCostFactors.SERDE_CPU_COST, mapRecords
-						.get(POS_MAP_SERIALIZE_OUTPUT).getValue()
+						.getValue(POS_MAP_SERIALIZE_OUTPUT)
 						/ (double) mapOutputPairs);
 			}
 
 			// Calculate and set the sort CPU cost (cost per comparison)
 			profile.addCostFactor(
 					MRCostFactors.SORT_CPU_COST,
-					averageSortCostInSpills(spillRecords, POS_SPILL_QUICK_SORT,
-							POS_SPILL_SORT_COUNT, numReducers));
+					spillGroups.getAverageSortCost());
 
 			// Calculate the number of merged pairs
 			long combineOutputPairs = profile.getCounter(
@@ -375,8 +378,8 @@ public class MRMapProfileLoader extends MRTaskProfileLoader {
 			if (numMergedPairs > 0) {
 				profile.addCostFactor(
 						MRCostFactors.MERGE_CPU_COST,
-						(mergeRecords.get(POS_MERGE_TOTAL_MERGE).getValue() - mergeRecords
-								.get(POS_MERGE_READ_WRITE).getValue())
+						(mergeRecords.getValue(POS_MERGE_TOTAL_MERGE)
+								- mergeRecords.getValue(POS_MERGE_READ_WRITE))
 								/ (double) numMergedPairs);
 			}
 
@@ -384,63 +387,57 @@ public class MRMapProfileLoader extends MRTaskProfileLoader {
 			if (conf.getBoolean(MR_COMPRESS_MAP_OUT, false) == true) {
 				profile.addStatistic(
 						MRStatistics.INTERM_COMPRESS_RATIO,
-						averageRecordValueRatios(spillRecords,
-								NUM_SPILL_PHASES,
-								POS_SPILL_COMPRESS_BYTE_COUNT,
-								POS_SPILL_UNCOMPRESS_BYTE_COUNT));
+						spillGroups.getAverageRatio(spillGroups.compressRatio));
 
 				// Compress cost = time to compress / uncompressed size
 				profile.addCostFactor(
 						MRCostFactors.INTERM_COMPRESS_CPU_COST,
-						averageRecordValueRatios(spillRecords,
-								NUM_SPILL_PHASES, POS_SPILL_COMPRESS,
-								POS_SPILL_UNCOMPRESS_BYTE_COUNT));
+						spillGroups.getAverageRatio(spillGroups.compressCost));
 
 				// Uncompress cost = time to uncompress / compressed size
 				double readBytes = ((spilledPairs / (double) outputPairs) - 1)
-						* aggregateRecordValues(spillRecords, NUM_SPILL_PHASES,
-								POS_SPILL_COMPRESS_BYTE_COUNT);
+						* spillGroups.getSum(POS_SPILL_COMPRESS_BYTE_COUNT);
 				if (outputPairs != 0
 						&& readBytes > 0
-						&& mergeRecords.get(POS_MERGE_UNCOMPRESS).getValue() != 0) {
+						&& mergeRecords.getValue(POS_MERGE_UNCOMPRESS) != 0) {
 					profile.addCostFactor(
 							MRCostFactors.INTERM_UNCOMPRESS_CPU_COST,
-							mergeRecords.get(POS_MERGE_UNCOMPRESS).getValue()
+							mergeRecords.getValue(POS_MERGE_UNCOMPRESS)
 									/ readBytes);
 				}
 			}
 
 			// Calculate and set spill-related counters
-			profile.addCounter(MRCounter.MAP_NUM_SPILLS, spillRecords.size()
-					/ (long) NUM_SPILL_PHASES);
+			profile.addCounter(MRCounter.MAP_NUM_SPILLS, (long) spillGroups
+					.getNumGroups());
 			profile.addCounter(MRCounter.MAP_NUM_SPILL_MERGES, mergeRecords
-					.get(POS_MERGE_READ_WRITE_COUNT).getValue() / numReducers);
+					.getValue(POS_MERGE_READ_WRITE_COUNT)
+					/ numReducers);
 			profile.addCounter(
 					MRCounter.MAP_RECS_PER_BUFF_SPILL,
-					(long) averageRecordValues(spillRecords, NUM_SPILL_PHASES,
-							POS_SPILL_SORT_COUNT));
+					(long) spillGroups.getAverage(POS_SPILL_SORT_COUNT));
 			profile.addCounter(
 					MRCounter.MAP_SPILL_SIZE,
-					(long) averageRecordValues(spillRecords, NUM_SPILL_PHASES,
-							POS_SPILL_COMPRESS_BYTE_COUNT));
+					(long) spillGroups
+							.getAverage(POS_SPILL_COMPRESS_BYTE_COUNT));
 		}
 
 		// Set the setup and cleanup costs
-		profile.addCostFactor(MRCostFactors.SETUP_CPU_COST, (double) mapRecords
-				.get(POS_MAP_SETUP).getValue());
+		profile.addCostFactor(MRCostFactors.SETUP_CPU_COST,
+				(double) mapRecords.getValue(POS_MAP_SETUP));
 		profile.addCostFactor(MRCostFactors.CLEANUP_CPU_COST,
-				(double) mapRecords.get(POS_MAP_CLEANUP).getValue());
+				(double) mapRecords.getValue(POS_MAP_CLEANUP));
 
 		// Calculate and set the memory statistics
-		long startup_mem = mapRecords.get(POS_MAP_STARTUP_MEM).getValue();
-		long setup_mem = mapRecords.get(POS_MAP_SETUP_MEM).getValue()
-				- mapRecords.get(POS_MAP_STARTUP_MEM).getValue();
+		long startup_mem = mapRecords.getValue(POS_MAP_STARTUP_MEM);
+		long setup_mem = mapRecords.getValue(POS_MAP_SETUP_MEM)
+				- mapRecords.getValue(POS_MAP_STARTUP_MEM);
 		setup_mem = (setup_mem < 0l) ? 0l : setup_mem;
-		long map_mem = mapRecords.get(POS_MAP_MEM).getValue()
-				- mapRecords.get(POS_MAP_SETUP_MEM).getValue();
+		long map_mem = mapRecords.getValue(POS_MAP_MEM)
+				- mapRecords.getValue(POS_MAP_SETUP_MEM);
 		map_mem = (map_mem < 0l) ? 0l : map_mem;
-		long cleanup_mem = mapRecords.get(POS_MAP_CLEANUP_MEM).getValue()
-				- mapRecords.get(POS_MAP_MEM).getValue();
+		long cleanup_mem = mapRecords.getValue(POS_MAP_CLEANUP_MEM)
+				- mapRecords.getValue(POS_MAP_MEM);
 		cleanup_mem = (cleanup_mem < 0l) ? 0l : cleanup_mem;
 
 		int sortmb = conf.getInt(MR_SORT_MB, 100) << 20;
@@ -458,7 +455,7 @@ public class MRMapProfileLoader extends MRTaskProfileLoader {
 
 		// Set the input file path
 		String[] jobInputs = ProfileUtils.getInputDirs(conf);
-		String mapInput = mapRecords.get(POS_MAP_INPUT).getProcess();
+		String mapInput = mapRecords.getProcess(POS_MAP_INPUT);
 		int index = GeneralUtils.getIndexInPathArray(jobInputs, mapInput);
 		((MRMapProfile) profile).setInputIndex(index == -1 ? 0 : index);
 	}
@@ -469,76 +466,45 @@ public class MRMapProfileLoader extends MRTaskProfileLoader {
 	private void calculateTimings() {
 
 		// Calculate the timings
-		profile.addTiming(MRTaskPhase.SETUP, mapRecords.get(POS_MAP_SETUP)
-				.getValue() / NS_PER_MS);
+		profile.addTiming(MRTaskPhase.SETUP, mapRecords.getValue(POS_MAP_SETUP)
+				/ NS_PER_MS);
 
-		profile.addTiming(MRTaskPhase.READ, mapRecords.get(POS_MAP_READ)
-				.getValue() / NS_PER_MS);
+		profile.addTiming(MRTaskPhase.READ, mapRecords.getValue(POS_MAP_READ)
+				/ NS_PER_MS);
 
-		profile.addTiming(MRTaskPhase.MAP, (mapRecords.get(POS_MAP_MAP)
-				.getValue() - mapRecords.get(POS_MAP_WRITE).getValue())
+		profile.addTiming(MRTaskPhase.MAP, (mapRecords.getValue(POS_MAP_MAP)
+				- mapRecords.getValue(POS_MAP_WRITE))
 				/ NS_PER_MS);
 
-		profile.addTiming(MRTaskPhase.CLEANUP, mapRecords.get(POS_MAP_CLEANUP)
-				.getValue() / NS_PER_MS);
+		profile.addTiming(MRTaskPhase.CLEANUP, mapRecords
+				.getValue(POS_MAP_CLEANUP)
+				/ NS_PER_MS);
 
 		int numReducers = conf.getInt(MR_RED_TASKS, 1);
 		if (numReducers == 0) {
-			profile.addTiming(MRTaskPhase.WRITE, (mapRecords.get(POS_MAP_WRITE)
-					.getValue() + mapRecords.get(POS_MAP_DIR_WRITE).getValue())
+			profile.addTiming(MRTaskPhase.WRITE, (mapRecords
+					.getValue(POS_MAP_WRITE) + mapRecords
+					.getValue(POS_MAP_DIR_WRITE))
 					/ NS_PER_MS);
 		} else {
 			profile.addTiming(
 					MRTaskPhase.COLLECT,
-					(mapRecords.get(POS_MAP_PARTITION_OUTPUT).getValue() + mapRecords
-							.get(POS_MAP_SERIALIZE_OUTPUT).getValue())
+					(mapRecords.getValue(POS_MAP_PARTITION_OUTPUT) + mapRecords
+							.getValue(POS_MAP_SERIALIZE_OUTPUT))
 							/ NS_PER_MS);
 
-			if (spillRecords != EMPTY_RECORDS)
-				profile.addTiming(
-						MRTaskPhase.SPILL,
-						aggregateRecordValues(spillRecords, NUM_SPILL_PHASES,
-								POS_SPILL_SORT_AND_SPILL) / NS_PER_MS);
+			if (spillGroups != null)
+				profile.addTiming(MRTaskPhase.SPILL, spillGroups
+						.getSum(POS_SPILL_SORT_AND_SPILL)
+						/ NS_PER_MS);
 
 			if (mergeRecords != EMPTY_RECORDS)
 				profile.addTiming(MRTaskPhase.MERGE,
-						mergeRecords.get(POS_MERGE_TOTAL_MERGE).getValue()
+						mergeRecords.getValue(POS_MERGE_TOTAL_MERGE)
 								/ NS_PER_MS);
 		}
 	}
 
-	/**
-	 * Calculates the average sort cost from all the spills. The cost from a
-	 * single sort = time / (N * log_2 (N / R))
-	 * 
-	 * @param records
-	 *            the spill records
-	 * @param sortPos
-	 *            the position of the sort timing
-	 * @param countPos
-	 *            the position of the sort count
-	 * @param numReducers
-	 *            the number of reducers
-	 * @return the averages sort cost
-	 */
-	private double averageSortCostInSpills(List<ProfileRecord> records,
-			int sortPos, int countPos, int numReducers) {
-		double sumCosts = 0d;
-		int numSpills = 0;
-		double numRecsPerRed = 1d;
-
-		for (int i = 0; i < records.size(); i += NUM_SPILL_PHASES) {
-			numRecsPerRed = records.get(i + countPos).getValue()
-					/ (double) numReducers;
-			sumCosts += (records.get(i + sortPos).getValue() * Math.log(2))
-					/ (records.get(i + countPos).getValue() * Math
-							.log((numRecsPerRed < 2) ? 2 : numRecsPerRed));
-			++numSpills;
-		}
-
-		return sumCosts / numSpills;
-	}
-
 	/**
 	 * Populates and validates the lists with the profile records
 	 * 
@@ -554,8 +520,8 @@ public class MRMapProfileLoader extends MRTaskProfileLoader {
 
 		if (!mapOnly) {
 			// There are reducers => spill and merge happened
-			spillRecords = getProfileRecords(ProfileToken.SPILL);
-			if (!validateSpillRecords(spillRecords))
+			spillGroups = (SpillGroups) getProfileGroups(ProfileToken.SPILL);
+			if (!validateSpillGroups(spillGroups))
 				return false;
 
 			mergeRecords = getProfileRecords(ProfileToken.MERGE);
@@ -573,10 +539,10 @@ public class MRMapProfileLoader extends MRTaskProfileLoader {
 	 * @return true if input is compressed
 	 */
 	private boolean isInputCompressed() {
-		if (mapRecords.get(POS_MAP_UNCOMPRESS).getValue() != 0)
+		if (mapRecords.getValue(POS_MAP_UNCOMPRESS) != 0)
 			return true;
 
-		String mapInput = mapRecords.get(POS_MAP_INPUT).getProcess();
+		String mapInput = mapRecords.getProcess(POS_MAP_INPUT);
 		if (GeneralUtils.hasCompressionExtension(mapInput))
 			return true;
 
@@ -595,7 +561,7 @@ public class MRMapProfileLoader extends MRTaskProfileLoader {
 	 * @return true if the profile records are accurate
 	 * @throws ProfileFormatException
 	 */
-	private boolean validateMapRecords(List<ProfileRecord> records)
+	private boolean validateMapRecords(ProfileRecords records)
 			throws ProfileFormatException {
 		if (records == null)
 			return false;
@@ -607,40 +573,40 @@ public class MRMapProfileLoader extends MRTaskProfileLoader {
 		}
 
 		int count = 0;
-		count += records.get(POS_MAP_STARTUP_MEM).getProcess()
+		count += records.getProcess(POS_MAP_STARTUP_MEM)
 				.equals(STARTUP_MEM) ? 0 : 1;
-		count += records.get(POS_MAP_SETUP).getProcess().equals(SETUP) ? 0 : 1;
-		count += records.get(POS_MAP_SETUP_MEM).getProcess().equals(SETUP_MEM) ? 0
+		count += records.getProcess(POS_MAP_SETUP).equals(SETUP) ? 0 : 1;
+		count += records.getProcess(POS_MAP_SETUP_MEM).equals(SETUP_MEM) ? 0
 				: 1;
-		count += records.get(POS_MAP_CLEANUP).getProcess().equals(CLEANUP) ? 0
+		count += records.getProcess(POS_MAP_CLEANUP).equals(CLEANUP) ? 0
 				: 1;
-		count += records.get(POS_MAP_CLEANUP_MEM).getProcess()
+		count += records.getProcess(POS_MAP_CLEANUP_MEM)
 				.equals(CLEANUP_MEM) ? 0 : 1;
-		count += records.get(POS_MAP_TOTAL_RUN).getProcess().equals(TOTAL_RUN) ? 0
+		count += records.getProcess(POS_MAP_TOTAL_RUN).equals(TOTAL_RUN) ? 0
 				: 1;
-		count += records.get(POS_MAP_READ).getProcess().equals(READ) ? 0 : 1;
-		count += records.get(POS_MAP_UNCOMPRESS).getProcess()
+		count += records.getProcess(POS_MAP_READ).equals(READ) ? 0 : 1;
+		count += records.getProcess(POS_MAP_UNCOMPRESS)
 				.equals(UNCOMPRESS) ? 0 : 1;
-		count += records.get(POS_MAP_INPUT_K_BYTE_COUNT).getProcess()
+		count += records.getProcess(POS_MAP_INPUT_K_BYTE_COUNT)
 				.equals(KEY_BYTE_COUNT) ? 0 : 1;
-		count += records.get(POS_MAP_INPUT_V_BYTE_COUNT).getProcess()
+		count += records.getProcess(POS_MAP_INPUT_V_BYTE_COUNT)
 				.equals(VALUE_BYTE_COUNT) ? 0 : 1;
-		count += records.get(POS_MAP_MAP).getProcess().equals(MAP) ? 0 : 1;
-		count += records.get(POS_MAP_WRITE).getProcess().equals(WRITE) ? 0 : 1;
-		count += records.get(POS_MAP_COMPRESS).getProcess().equals(COMPRESS) ? 0
+		count += records.getProcess(POS_MAP_MAP).equals(MAP) ? 0 : 1;
+		count += records.getProcess(POS_MAP_WRITE).equals(WRITE) ? 0 : 1;
+		count += records.getProcess(POS_MAP_COMPRESS).equals(COMPRESS) ? 0
 				: 1;
-		count += records.get(POS_MAP_PARTITION_OUTPUT).getProcess()
+		count += records.getProcess(POS_MAP_PARTITION_OUTPUT)
 				.equals(PARTITION_OUTPUT) ? 0 : 1;
-		count += records.get(POS_MAP_SERIALIZE_OUTPUT).getProcess()
+		count += records.getProcess(POS_MAP_SERIALIZE_OUTPUT)
 				.equals(SERIALIZE_OUTPUT) ? 0 : 1;
-		count += records.get(POS_MAP_MEM).getProcess().equals(MAP_MEM) ? 0 : 1;
-		count += records.get(POS_MAP_DIR_WRITE).getProcess().equals(WRITE) ? 0
+		count += records.getProcess(POS_MAP_MEM).equals(MAP_MEM) ? 0 : 1;
+		count += records.getProcess(POS_MAP_DIR_WRITE).equals(WRITE) ? 0
 				: 1;
-		count += records.get(POS_MAP_DIR_COMPRESS).getProcess()
+		count += records.getProcess(POS_MAP_DIR_COMPRESS)
 				.equals(COMPRESS) ? 0 : 1;
-		count += records.get(POS_MAP_OUTPUT_K_BYTE_COUNT).getProcess()
+		count += records.getProcess(POS_MAP_OUTPUT_K_BYTE_COUNT)
 				.equals(KEY_BYTE_COUNT) ? 0 : 1;
-		count += records.get(POS_MAP_OUTPUT_V_BYTE_COUNT).getProcess()
+		count += records.getProcess(POS_MAP_OUTPUT_V_BYTE_COUNT)
 				.equals(VALUE_BYTE_COUNT) ? 0 : 1;
 
 		if (count != 0)
@@ -652,46 +618,26 @@ public class MRMapProfileLoader extends MRTaskProfileLoader {
 	}
 
 	/**
-	 * Validate the number and order of records in a spill phase. If a problem
-	 * is detected, a ProfileFormatException is thrown.
+	 * Validate the number and order of records in the spill phases. If a
+	 * problem is detected, a ProfileFormatException is thrown.
 	 * 
-	 * @param records
-	 *            the spill records to validate
+	 * @param groups
+	 *            the spill groups to validate
 	 * @return true if the profile records are accurate
 	 * @throws ProfileFormatException
 	 */
-	private boolean validateSpillRecords(List<ProfileRecord> records)
+	private boolean validateSpillGroups(ProfileGroups groups)
 			throws ProfileFormatException {
-		if (records == null)
+		if (groups == null)
 			return false;
 
-		if (records.size() % NUM_SPILL_PHASES != 0) {
+		if (!groups.isComplete()) {
 			throw new ProfileFormatException("Expected groups of "
 					+ NUM_SPILL_PHASES + " records for the SPILL phase for "
 					+ this.profile.getTaskId());
 		}
 
-		int count = 0;
-		for (int i = 0; i < records.size(); i += NUM_SPILL_PHASES) {
-			count += records.get(i + POS_SPILL_SORT_AND_SPILL).getProcess()
-					.equals(SORT_AND_SPILL) ? 0 : 1;
-			count += records.get(i + POS_SPILL_QUICK_SORT).getProcess()
-					.equals(QUICK_SORT) ? 0 : 1;
-			count += records.get(i + POS_SPILL_SORT_COUNT).getProcess()
-					.equals(SORT_COUNT) ? 0 : 1;
-			count += records.get(i + POS_SPILL_COMBINE).getProcess()
-					.equals(COMBINE) ? 0 : 1;
-			count += records.get(i + POS_SPILL_WRITE).getProcess()
-					.equals(WRITE) ? 0 : 1;
-			count += records.get(i + POS_SPILL_COMPRESS).getProcess()
-					.equals(COMPRESS) ? 0 : 1;
-			count += records.get(i + POS_SPILL_UNCOMPRESS_BYTE_COUNT)
-					.getProcess().equals(UNCOMPRESS_BYTE_COUNT) ? 0 : 1;
-			count += records.get(i + POS_SPILL_COMPRESS_BYTE_COUNT)
-					.getProcess().equals(COMPRESS_BYTE_COUNT) ? 0 : 1;
-		}
-
-		if (count != 0)
+		if (!groups.isValid())
 			throw new ProfileFormatException(
 					"Incorrect sequence of records in SPILL phase for "
 							+ this.profile.getTaskId());
@@ -708,7 +654,7 @@ public class MRMapProfileLoader extends MRTaskProfileLoader {
 	 * @return true if the profile records are accurate
 	 * @throws ProfileFormatException
 	 */
-	private boolean validateMergeRecords(List<ProfileRecord> records)
+	private boolean validateMergeRecords(ProfileRecords records)
 			throws ProfileFormatException {
 		if (records == null)
 			return false;
@@ -720,15 +666,15 @@ public class MRMapProfileLoader extends MRTaskProfileLoader {
 		}
 
 		int count = 0;
-		count += records.get(POS_MERGE_TOTAL_MERGE).getProcess()
+		count += records.getProcess(POS_MERGE_TOTAL_MERGE)
 				.equals(TOTAL_MERGE) ? 0 : 1;
-		count += records.get(POS_MERGE_READ_WRITE).getProcess()
+		count += records.getProcess(POS_MERGE_READ_WRITE)
 				.equals(READ_WRITE) ? 0 : 1;
-		count += records.get(POS_MERGE_READ_WRITE_COUNT).getProcess()
+		count += records.getProcess(POS_MERGE_READ_WRITE_COUNT)
 				.equals(READ_WRITE_COUNT) ? 0 : 1;
-		count += records.get(POS_MERGE_UNCOMPRESS).getProcess()
+		count += records.getProcess(POS_MERGE_UNCOMPRESS)
 				.equals(UNCOMPRESS) ? 0 : 1;
-		count += records.get(POS_MERGE_COMPRESS).getProcess().equals(COMPRESS) ? 0
+		count += records.getProcess(POS_MERGE_COMPRESS).equals(COMPRESS) ? 0
 				: 1;
 
 		if (count != 0)
@@ -739,4 +685,67 @@ public class MRMapProfileLoader extends MRTaskProfileLoader {
 		return true;
 	}
 
+	/* ***************************************************************
+	 * PRIVATE CLASSES
+	 * ***************************************************************
+	 */
+
+	/**
+	 * The running aggregates of the spill phases, including the average sort
+	 * cost of the spills. The cost from a single sort = time / (N * log_2 (N /
+	 * R))
+	 * 
+	 * @author hero
+	 */
+	private static class SpillGroups extends ProfileGroups {
+
+		private int numReducers;
+		private double sumSortCosts;
+
+		// The indexes of the ratios
+		private int writeCost;
+		private int combineCost;
+		private int compressRatio;
+		private int compressCost;
+
+		/**
+		 * Constructor
+		 * 
+		 * @param numReducers
+		 *            the number of reducers
+		 */
+		public SpillGroups(int numReducers) {
+			super(SORT_AND_SPILL, QUICK_SORT, SORT_COUNT, COMBINE, WRITE,
+					COMPRESS, UNCOMPRESS_BYTE_COUNT, COMPRESS_BYTE_COUNT);
+			this.numReducers = numReducers;
+			this.sumSortCosts = 0d;
+
+			writeCost = addDiffRatio(POS_SPILL_WRITE, POS_SPILL_COMPRESS,
+					POS_SPILL_COMPRESS_BYTE_COUNT);
+			combineCost = addDiffRatio(POS_SPILL_COMBINE, POS_SPILL_WRITE,
+					POS_SPILL_SORT_COUNT);
+			compressRatio = addRatio(POS_SPILL_COMPRESS_BYTE_COUNT,
+					POS_SPILL_UNCOMPRESS_BYTE_COUNT);
+			compressCost = addRatio(POS_SPILL_COMPRESS,
+					POS_SPILL_UNCOMPRESS_BYTE_COUNT);
+		}
+
+		/**
+		 * @return the average sort cost of the spills
+		 */
+		public double getAverageSortCost() {
+			return sumSortCosts / getNumGroups();
+		}
+
+		@Override
+		protected void foldGroup(long[] group) {
+			double numRecsPerRed = group[POS_SPILL_SORT_COUNT]
+					/ (double) numReducers;
+			sumSortCosts += (group[POS_SPILL_QUICK_SORT] * Math.log(2))
+					/ (group[POS_SPILL_SORT_COUNT] * Math
+							.log((numRecsPerRed < 2) ? 2 : numRecsPerRed));
+		}
+
+	}
+
 }
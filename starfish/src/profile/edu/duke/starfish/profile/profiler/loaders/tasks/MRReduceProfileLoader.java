@@ -10,8 +10,6 @@ import static edu.duke.starfish.profile.utils.Constants.MR_TOF;
 import static edu.duke.starfish.profile.utils.Constants.MR_TSOF;
 import static edu.duke.starfish.profile.utils.Constants.PIG_POF;
 
-import java.util.List;
-
 import org.apache.hadoop.conf.Configuration;
 
 import edu.duke.starfish.profile.profileinfo.execution.profile.MRReduceProfile;
@@ -36,10 +34,10 @@ public class MRReduceProfileLoader extends MRTaskProfileLoader {
 	 */
 
 	// Lists with the records from the profile file
-	private List<ProfileRecord> shuffleRecords;
-	private List<ProfileRecord> reduceRecords;
-	private List<ProfileRecord> sortRecords;
-	private List<ProfileRecord> mergeRecords;
+	private ShuffleGroups shuffleGroups;
+	private ProfileRecords reduceRecords;
+	private ProfileRecords sortRecords;
+	private ProfileGroups mergeGroups;
 
 	// CONSTANTS FOR THE SHUFFLE PHASE
 	private static final int NUM_SHUFFLE_PHASES = 4;
@@ -100,10 +98,10 @@ public class MRReduceProfileLoader extends MRTaskProfileLoader {
 		super(profile, conf, profileFile);
 
 		// Initialize all records to be empty
-		shuffleRecords = EMPTY_RECORDS;
+		shuffleGroups = null;
 		reduceRecords = EMPTY_RECORDS;
 		sortRecords = EMPTY_RECORDS;
-		mergeRecords = EMPTY_RECORDS;
+		mergeGroups = null;
 	}
 
 	/* ***************************************************************
@@ -117,6 +115,11 @@ public class MRReduceProfileLoader extends MRTaskProfileLoader {
 		if (!getAndValidateProfileRecords())
 			return false;
 
+		// Extrapolate the per-record values in case of record sampling
+		extrapolateRecordValues(reduceRecords, getRecordSamplingFactor(),
+				POS_REDUCE_READ, POS_REDUCE_REDUCE, POS_REDUCE_WRITE,
+				POS_REDUCE_KEY_BYTE_COUNT, POS_REDUCE_VALUE_BYTE_COUNT);
+
 		// Calculate all the profile information
 		calculateStatsAndCosts();
 		calculateTimings();
@@ -124,6 +127,21 @@ public class MRReduceProfileLoader extends MRTaskProfileLoader {
 		return true;
 	}
 
+	@Override
+	protected ProfileGroups createProfileGroups(ProfileToken token) {
+		if (token == ProfileToken.SHUFFLE) {
+			return new ShuffleGroups();
+		} else if (token == ProfileToken.MERGE) {
+			ProfileGroups groups = new ProfileGroups(MERGE_IN_MEMORY,
+					READ_WRITE, READ_WRITE_COUNT, COMBINE, WRITE, UNCOMPRESS,
+					COMPRESS);
+			groups.allowProcess(POS_MERGE_MERGE, MERGE_TO_DISK);
+			return groups;
+		} else {
+			return null;
+		}
+	}
+
 	/* ***************************************************************
 	 * PRIVATE METHODS
 	 * ***************************************************************
@@ -148,13 +166,13 @@ public class MRReduceProfileLoader extends MRTaskProfileLoader {
 				MRCounter.REDUCE_OUTPUT_RECORDS, 0l);
 
 		// Calculate the number of shuffle bytes
-		long shuffleBytes = aggregateRecordValues(shuffleRecords,
-				NUM_SHUFFLE_PHASES, POS_SHUFFLE_COMPR_BYTE_COUNT);
+		long shuffleBytes = shuffleGroups
+				.getSum(POS_SHUFFLE_COMPR_BYTE_COUNT);
 		profile.addCounter(MRCounter.REDUCE_SHUFFLE_BYTES, shuffleBytes);
 
 		// Calculate the number of reduce input bytes
-		long reduceInputBytes = aggregateRecordValues(shuffleRecords,
-				NUM_SHUFFLE_PHASES, POS_SHUFFLE_UNCOMPR_BYTE_COUNT);
+		long reduceInputBytes = shuffleGroups
+				.getSum(POS_SHUFFLE_UNCOMPR_BYTE_COUNT);
 		profile.addCounter(MRCounter.REDUCE_INPUT_BYTES, reduceInputBytes);
 
 		// Calculate the number of reduce output bytes
@@ -165,22 +183,22 @@ public class MRReduceProfileLoader extends MRTaskProfileLoader {
 				|| outputFormat.equals(MR_TSOF)
 				|| outputFormat.equals(MR_SFTOF)) {
 			// Equals keys + values + separator + newline
-			reduceOutputBytes = reduceRecords.get(POS_REDUCE_KEY_BYTE_COUNT)
-					.getValue()
-					+ reduceRecords.get(POS_REDUCE_VALUE_BYTE_COUNT).getValue()
+			reduceOutputBytes = reduceRecords
+					.getValue(POS_REDUCE_KEY_BYTE_COUNT)
+					+ reduceRecords.getValue(POS_REDUCE_VALUE_BYTE_COUNT)
 					+ 2 * reduceOutputPairs;
 		} else if (outputFormat.equals(MR_TBOF)) {
 			// Equals keys + values
-			reduceOutputBytes = reduceRecords.get(POS_REDUCE_KEY_BYTE_COUNT)
-					.getValue()
-					+ reduceRecords.get(POS_REDUCE_VALUE_BYTE_COUNT).getValue();
+			reduceOutputBytes = reduceRecords
+					.getValue(POS_REDUCE_KEY_BYTE_COUNT)
+					+ reduceRecords.getValue(POS_REDUCE_VALUE_BYTE_COUNT);
 
 			// Might not need this...
 			profile.addCounter(MRCounter.HDFS_BYTES_WRITTEN, reduceOutputBytes);
 		} else if (outputFormat.equals(PIG_POF)) {
 			// Equals values
-			reduceOutputBytes = reduceRecords.get(POS_REDUCE_VALUE_BYTE_COUNT)
-					.getValue();
+			reduceOutputBytes = reduceRecords
+					.getValue(POS_REDUCE_VALUE_BYTE_COUNT);
 		} else {
 			// Equals HDFS output (without compression)
 			reduceOutputBytes = isOutputCompressed() ? (long) (hdfsBytesWritten / DEFAULT_COMPR_RATIO)
@@ -189,30 +207,24 @@ public class MRReduceProfileLoader extends MRTaskProfileLoader {
 		profile.addCounter(MRCounter.REDUCE_OUTPUT_BYTES, reduceOutputBytes);
 
 		// Calculate and set the network cost
-		if (shuffleRecords.size() > 0)
-			profile.addCostFactor(
-					MRCostFactors.NETWORK_COST,
-					averageProfileValueDiffRatios(shuffleRecords,
-							NUM_SHUFFLE_PHASES, POS_SHUFFLE_COPY_MAP_OUTPUT,
-							POS_SHUFFLE_UNCOMPRESS,
-							POS_SHUFFLE_COMPR_BYTE_COUNT));
+		if (shuffleGroups.getNumGroups() > 0)
+			profile.addCostFactor(MRCostFactors.NETWORK_COST, shuffleGroups
+					.getAverageRatio(shuffleGroups.networkCost));
 
 		// Calculate and set the intermediate compression ratio and cost
 		double comprRatio = 1;
 		if (conf.getBoolean(MR_COMPRESS_MAP_OUT, false) == true) {
-			if (shuffleRecords.size() > 0) {
-				comprRatio = averageRecordValueRatios(shuffleRecords,
-						NUM_SHUFFLE_PHASES, POS_SHUFFLE_COMPR_BYTE_COUNT,
-						POS_SHUFFLE_UNCOMPR_BYTE_COUNT);
+			if (shuffleGroups.getNumGroups() > 0) {
+				comprRatio = shuffleGroups
+						.getAverageRatio(shuffleGroups.compressRatio);
 				profile.addStatistic(MRStatistics.INTERM_COMPRESS_RATIO,
 						comprRatio);
 
 				// Uncompress cost = time to uncompress / compressed size
 				profile.addCostFactor(
 						MRCostFactors.INTERM_UNCOMPRESS_CPU_COST,
-						averageRecordValueRatios(shuffleRecords,
-								NUM_SHUFFLE_PHASES, POS_SHUFFLE_UNCOMPRESS,
-								POS_SHUFFLE_COMPR_BYTE_COUNT));
+						shuffleGroups
+								.getAverageRatio(shuffleGroups.uncompressCost));
 			}
 
 			// Compress cost = time to compress / uncompressed size
@@ -221,11 +233,9 @@ public class MRReduceProfileLoader extends MRTaskProfileLoader {
 			if (spilledPairs != 0 && reduceInputPairs != 0) {
 				double readBytes = spilledPairs * reduceInputBytes
 						/ reduceInputPairs;
-				long compressTime = sortRecords.get(POS_SORT_COMPRESS)
-						.getValue();
-				if (mergeRecords != EMPTY_RECORDS)
-					compressTime += aggregateRecordValues(mergeRecords,
-							NUM_MERGE_PHASES, POS_MERGE_COMPRESS);
+				long compressTime = sortRecords.getValue(POS_SORT_COMPRESS);
+				if (mergeGroups != null)
+					compressTime += mergeGroups.getSum(POS_MERGE_COMPRESS);
 
 				if (readBytes != 0 && compressTime != 0) {
 					profile.addCostFactor(
@@ -254,8 +264,8 @@ public class MRReduceProfileLoader extends MRTaskProfileLoader {
 			// Cost = pure reduce time / number of input records
 			profile.addCostFactor(
 					MRCostFactors.REDUCE_CPU_COST,
-					(reduceRecords.get(POS_REDUCE_REDUCE).getValue() - reduceRecords
-							.get(POS_REDUCE_WRITE).getValue())
+					(reduceRecords.getValue(POS_REDUCE_REDUCE) - reduceRecords
+							.getValue(POS_REDUCE_WRITE))
 							/ (double) reduceInputPairs);
 		}
 
@@ -268,8 +278,9 @@ public class MRReduceProfileLoader extends MRTaskProfileLoader {
 				// Cost = time to compress / uncompressed size
 				profile.addCostFactor(
 						MRCostFactors.OUTPUT_COMPRESS_CPU_COST,
-						(reduceRecords.get(POS_REDUCE_COMPRESS).getValue() + reduceRecords
-								.get(POS_REDUCE_FINAL_COMPRESS).getValue())
+						(reduceRecords.getValue(POS_REDUCE_COMPRESS)
+								+ reduceRecords
+										.getValue(POS_REDUCE_FINAL_COMPRESS))
 								/ (double) reduceOutputBytes);
 			}
 		}
@@ -277,7 +288,7 @@ public class MRReduceProfileLoader extends MRTaskProfileLoader {
 		// Calculate and set the local read I/O cost
 		if (reduceInputBytes != 0) {
 			profile.addCostFactor(MRCostFactors.READ_LOCAL_IO_COST,
-					reduceRecords.get(POS_REDUCE_READ).getValue()
+					reduceRecords.getValue(POS_REDUCE_READ)
 							/ (comprRatio * reduceInputBytes));
 		}
 
@@ -285,24 +296,22 @@ public class MRReduceProfileLoader extends MRTaskProfileLoader {
 		long fileBytesWritten = profile.getCounter(
 				MRCounter.FILE_BYTES_WRITTEN, 0l);
 		if (fileBytesWritten != 0l
-				&& sortRecords.get(POS_SORT_READ_WRITE_COUNT).getValue() <= 1l) {
+				&& sortRecords.getValue(POS_SORT_READ_WRITE_COUNT) <= 1l) {
 
-			long writeTime = sortRecords.get(POS_SORT_READ_WRITE).getValue()
-					- sortRecords.get(POS_SORT_COMPRESS).getValue();
-			if (mergeRecords != EMPTY_RECORDS)
-				writeTime += aggregateRecordValues(mergeRecords,
-						NUM_MERGE_PHASES, POS_MERGE_READ_WRITE)
-						- aggregateRecordValues(mergeRecords, NUM_MERGE_PHASES,
-								POS_MERGE_COMPRESS);
+			long writeTime = sortRecords.getValue(POS_SORT_READ_WRITE)
+					- sortRecords.getValue(POS_SORT_COMPRESS);
+			if (mergeGroups != null)
+				writeTime += mergeGroups.getSum(POS_MERGE_READ_WRITE)
+						- mergeGroups.getSum(POS_MERGE_COMPRESS);
 
 			profile.addCostFactor(MRCostFactors.WRITE_LOCAL_IO_COST, writeTime
 					/ (double) fileBytesWritten);
 		}
 
-		double writeTime = (reduceRecords.get(POS_REDUCE_WRITE).getValue()
-				+ reduceRecords.get(POS_REDUCE_FINAL_WRITE).getValue()
-				- reduceRecords.get(POS_REDUCE_COMPRESS).getValue() - reduceRecords
-				.get(POS_REDUCE_FINAL_COMPRESS).getValue());
+		double writeTime = (reduceRecords.getValue(POS_REDUCE_WRITE)
+				+ reduceRecords.getValue(POS_REDUCE_FINAL_WRITE)
+				- reduceRecords.getValue(POS_REDUCE_COMPRESS) - reduceRecords
+				.getValue(POS_REDUCE_FINAL_COMPRESS));
 
 		// Calculate and set the HDFS write I/O cost
 		if (hdfsBytesWritten != 0) {
@@ -333,13 +342,11 @@ public class MRReduceProfileLoader extends MRTaskProfileLoader {
 		long spilledPairs = profile.getCounter(MRCounter.SPILLED_RECORDS,
 				reduceInputPairs);
 		if (spilledPairs > 0) {
-			long mergeTime = sortRecords.get(POS_SORT_MERGE).getValue()
-					- sortRecords.get(POS_SORT_READ_WRITE).getValue();
-			if (mergeRecords != EMPTY_RECORDS)
-				mergeTime += aggregateRecordValues(mergeRecords,
-						NUM_MERGE_PHASES, POS_MERGE_MERGE)
-						- aggregateRecordValues(mergeRecords, NUM_MERGE_PHASES,
-								POS_MERGE_READ_WRITE);
+			long mergeTime = sortRecords.getValue(POS_SORT_MERGE)
+					- sortRecords.getValue(POS_SORT_READ_WRITE);
+			if (mergeGroups != null)
+				mergeTime += mergeGroups.getSum(POS_MERGE_MERGE)
+						- mergeGroups.getSum(POS_MERGE_READ_WRITE);
 
 			profile.addCostFactor(MRCostFactors.MERGE_CPU_COST, mergeTime
 					/ (double) spilledPairs);
@@ -347,20 +354,20 @@ public class MRReduceProfileLoader extends MRTaskProfileLoader {
 
 		// Set the setup and cleanup costs
 		profile.addCostFactor(MRCostFactors.SETUP_CPU_COST,
-				(double) reduceRecords.get(POS_REDUCE_SETUP).getValue());
+				(double) reduceRecords.getValue(POS_REDUCE_SETUP));
 		profile.addCostFactor(MRCostFactors.CLEANUP_CPU_COST,
-				(double) reduceRecords.get(POS_REDUCE_CLEANUP).getValue());
+				(double) reduceRecords.getValue(POS_REDUCE_CLEANUP));
 
 		// Calculate and set the memory statistics
-		long startup_mem = reduceRecords.get(POS_REDUCE_STARTUP_MEM).getValue();
-		long setup_mem = reduceRecords.get(POS_REDUCE_SETUP_MEM).getValue()
-				- reduceRecords.get(POS_REDUCE_STARTUP_MEM).getValue();
+		long startup_mem = reduceRecords.getValue(POS_REDUCE_STARTUP_MEM);
+		long setup_mem = reduceRecords.getValue(POS_REDUCE_SETUP_MEM)
+				- reduceRecords.getValue(POS_REDUCE_STARTUP_MEM);
 		setup_mem = (setup_mem < 0l) ? 0l : setup_mem;
-		long reduce_mem = reduceRecords.get(POS_REDUCE_MEM).getValue()
-				- reduceRecords.get(POS_REDUCE_SETUP_MEM).getValue();
+		long reduce_mem = reduceRecords.getValue(POS_REDUCE_MEM)
+				- reduceRecords.getValue(POS_REDUCE_SETUP_MEM);
 		reduce_mem = (reduce_mem < 0l) ? 0l : reduce_mem;
-		long cleanup_mem = reduceRecords.get(POS_REDUCE_CLEANUP_MEM).getValue()
-				- reduceRecords.get(POS_REDUCE_MEM).getValue();
+		long cleanup_mem = reduceRecords.getValue(POS_REDUCE_CLEANUP_MEM)
+				- reduceRecords.getValue(POS_REDUCE_MEM);
 		cleanup_mem = (cleanup_mem < 0l) ? 0l : cleanup_mem;
 
 		profile.addStatistic(MRStatistics.STARTUP_MEM, (double) startup_mem);
@@ -381,34 +388,35 @@ public class MRReduceProfileLoader extends MRTaskProfileLoader {
 	private void calculateTimings() {
 
 		// Calculate the shuffle timings
-		double timeShuffle = aggregateRecordValues(shuffleRecords,
-				NUM_SHUFFLE_PHASES, POS_SHUFFLE_COPY_MAP_OUTPUT);
-		if (mergeRecords != EMPTY_RECORDS)
-			timeShuffle += aggregateRecordValues(mergeRecords,
-					NUM_MERGE_PHASES, POS_MERGE_MERGE);
+		double timeShuffle = shuffleGroups.getSum(POS_SHUFFLE_COPY_MAP_OUTPUT);
+		if (mergeGroups != null)
+			timeShuffle += mergeGroups.getSum(POS_MERGE_MERGE);
 
 		profile.addTiming(MRTaskPhase.SHUFFLE, timeShuffle / NS_PER_MS);
 
 		// Calculate the sort timings
-		double timeSort = sortRecords.get(POS_SORT_MERGE).getValue();
+		double timeSort = sortRecords.getValue(POS_SORT_MERGE);
 		profile.addTiming(MRTaskPhase.SORT, timeSort / NS_PER_MS);
 
 		// Calculate the reduce timings
 		profile.addTiming(MRTaskPhase.SETUP, reduceRecords
-				.get(POS_REDUCE_SETUP).getValue() / NS_PER_MS);
+				.getValue(POS_REDUCE_SETUP)
+				/ NS_PER_MS);
 
 		profile.addTiming(
 				MRTaskPhase.REDUCE,
-				(reduceRecords.get(POS_REDUCE_READ).getValue()
-						+ reduceRecords.get(POS_REDUCE_REDUCE).getValue() - reduceRecords
-						.get(POS_REDUCE_WRITE).getValue()) / NS_PER_MS);
+				(reduceRecords.getValue(POS_REDUCE_READ)
+						+ reduceRecords.getValue(POS_REDUCE_REDUCE)
+						- reduceRecords.getValue(POS_REDUCE_WRITE))
+						/ NS_PER_MS);
 
 		profile.addTiming(MRTaskPhase.WRITE,
-				(reduceRecords.get(POS_REDUCE_WRITE).getValue() + reduceRecords
-						.get(POS_REDUCE_FINAL_WRITE).getValue()) / NS_PER_MS);
+				(reduceRecords.getValue(POS_REDUCE_WRITE) + reduceRecords
+						.getValue(POS_REDUCE_FINAL_WRITE))
+						/ NS_PER_MS);
 
 		profile.addTiming(MRTaskPhase.CLEANUP,
-				reduceRecords.get(POS_REDUCE_CLEANUP).getValue() / NS_PER_MS);
+				reduceRecords.getValue(POS_REDUCE_CLEANUP) / NS_PER_MS);
 	}
 
 	/**
@@ -416,8 +424,8 @@ public class MRReduceProfileLoader extends MRTaskProfileLoader {
 	 */
 	private boolean getAndValidateProfileRecords()
 			throws ProfileFormatException {
-		shuffleRecords = getProfileRecords(ProfileToken.SHUFFLE);
-		if (!validateShuffleRecords(shuffleRecords))
+		shuffleGroups = (ShuffleGroups) getProfileGroups(ProfileToken.SHUFFLE);
+		if (!validateGroups(shuffleGroups, NUM_SHUFFLE_PHASES, "SHUFFLE"))
 			return false;
 
 		reduceRecords = getProfileRecords(ProfileToken.REDUCE);
@@ -428,12 +436,11 @@ public class MRReduceProfileLoader extends MRTaskProfileLoader {
 		if (!validateSortRecords(sortRecords))
 			return false;
 
-		mergeRecords = getProfileRecords(ProfileToken.MERGE);
-		if (mergeRecords != null) {
-			if (!validateMergeRecords(mergeRecords))
+		mergeGroups = getProfileGroups(ProfileToken.MERGE);
+		if (mergeGroups != null) {
+			if (!validateGroups(mergeGroups, NUM_MERGE_PHASES, "MERGE"))
 				return false;
-		} else
-			mergeRecords = EMPTY_RECORDS;
+		}
 
 		return true;
 	}
@@ -446,106 +453,40 @@ public class MRReduceProfileLoader extends MRTaskProfileLoader {
 	 */
 	private boolean isOutputCompressed() {
 
-		return reduceRecords.get(POS_REDUCE_COMPRESS).getValue() != 0
-				|| reduceRecords.get(POS_REDUCE_FINAL_COMPRESS).getValue() != 0
+		return reduceRecords.getValue(POS_REDUCE_COMPRESS) != 0
+				|| reduceRecords.getValue(POS_REDUCE_FINAL_COMPRESS) != 0
 				|| ProfileUtils.isMROutputCompressionOn(conf);
 	}
 
 	/**
-	 * Validate the number and order of records in a shuffle phase. If a problem
-	 * is detected, a ProfileFormatException is thrown.
-	 * 
-	 * @param records
-	 *            the shuffle records to validate
-	 * @return true if the profile records are accurate
-	 * @throws ProfileFormatException
-	 */
-	private boolean validateShuffleRecords(List<ProfileRecord> records)
-			throws ProfileFormatException {
-		if (records == null)
-			return false;
-
-		if (records.size() % NUM_SHUFFLE_PHASES != 0) {
-			throw new ProfileFormatException("Expected groups of "
-					+ NUM_SHUFFLE_PHASES
-					+ " records for the SHUFFLE phase for "
-					+ this.profile.getTaskId());
-		}
-
-		int count = 0;
-		for (int i = 0; i < records.size(); i += NUM_SHUFFLE_PHASES) {
-			count += records.get(i + POS_SHUFFLE_UNCOMPR_BYTE_COUNT)
-					.getProcess().equals(UNCOMPRESS_BYTE_COUNT) ? 0 : 1;
-			count += records.get(i + POS_SHUFFLE_COMPR_BYTE_COUNT).getProcess()
-					.equals(COMPRESS_BYTE_COUNT) ? 0 : 1;
-			count += records.get(i + POS_SHUFFLE_COPY_MAP_OUTPUT).getProcess()
-					.equals(COPY_MAP_DATA) ? 0 : 1;
-			count += records.get(i + POS_SHUFFLE_UNCOMPRESS).getProcess()
-					.equals(UNCOMPRESS) ? 0 : 1;
-		}
-
-		if (count != 0)
-			throw new ProfileFormatException(
-					"Incorrect sequence of records in SHUFFLE phase for "
-							+ this.profile.getTaskId());
-
-		// Remove the empty map outputs
-		for (int i = 0; i < records.size(); i += NUM_SHUFFLE_PHASES) {
-			if (records.get(i + POS_SHUFFLE_UNCOMPR_BYTE_COUNT).getValue() == 2) {
-				// Remove all processes of this shuffle
-				for (int j = 0; j < NUM_SHUFFLE_PHASES; ++j) {
-					records.remove(i);
-				}
-				i -= NUM_SHUFFLE_PHASES;
-			}
-		}
-
-		return true;
-	}
-
-	/**
-	 * Validate the number and order of records in a merge-in-shuffle phase. If
-	 * a problem is detected, a ProfileFormatException is thrown.
+	 * Validate the number and order of records in the shuffle or the
+	 * merge-in-shuffle phases. If a problem is detected, a
+	 * ProfileFormatException is thrown.
 	 * 
-	 * @param records
-	 *            the merge records to validate
+	 * @param groups
+	 *            the profile groups to validate
+	 * @param numPhases
+	 *            the number of records in each group
+	 * @param phase
+	 *            the name of the phase
 	 * @return true if the profile records are accurate
 	 * @throws ProfileFormatException
 	 */
-	private boolean validateMergeRecords(List<ProfileRecord> records)
-			throws ProfileFormatException {
-		if (records == null)
+	private boolean validateGroups(ProfileGroups groups, int numPhases,
+			String phase) throws ProfileFormatException {
+		if (groups == null)
 			return false;
 
-		if (records == null || records.size() % NUM_MERGE_PHASES != 0) {
+		if (!groups.isComplete()) {
 			throw new ProfileFormatException("Expected groups of "
-					+ NUM_MERGE_PHASES + " records for the MERGE phase for "
-					+ this.profile.getTaskId());
+					+ numPhases + " records for the " + phase
+					+ " phase for " + this.profile.getTaskId());
 		}
 
-		int count = 0;
-		for (int i = 0; i < records.size(); i += NUM_MERGE_PHASES) {
-			count += (records.get(POS_MERGE_MERGE).getProcess()
-					.equals(MERGE_IN_MEMORY) || records.get(POS_MERGE_MERGE)
-					.getProcess().equals(MERGE_TO_DISK)) ? 0 : 1;
-			count += records.get(POS_MERGE_READ_WRITE).getProcess()
-					.equals(READ_WRITE) ? 0 : 1;
-			count += records.get(POS_MERGE_READ_WRITE_COUNT).getProcess()
-					.equals(READ_WRITE_COUNT) ? 0 : 1;
-			count += records.get(POS_MERGE_COMBINE).getProcess()
-					.equals(COMBINE) ? 0 : 1;
-			count += records.get(POS_MERGE_WRITE).getProcess().equals(WRITE) ? 0
-					: 1;
-			count += records.get(POS_MERGE_UNCOMPRESS).getProcess()
-					.equals(UNCOMPRESS) ? 0 : 1;
-			count += records.get(POS_MERGE_COMPRESS).getProcess()
-					.equals(COMPRESS) ? 0 : 1;
-		}
-
-		if (count != 0)
+		if (!groups.isValid())
 			throw new ProfileFormatException(
-					"Incorrect sequence of records in MERGE phase for "
-							+ this.profile.getTaskId());
+					"Incorrect sequence of records in " + phase
+							+ " phase for " + this.profile.getTaskId());
 
 		return true;
 	}
@@ -559,7 +500,7 @@ public class MRReduceProfileLoader extends MRTaskProfileLoader {
 	 * @return true if the profile records are accurate
 	 * @throws ProfileFormatException
 	 */
-	private boolean validateSortRecords(List<ProfileRecord> records)
+	private boolean validateSortRecords(ProfileRecords records)
 			throws ProfileFormatException {
 		if (records == null)
 			return false;
@@ -571,15 +512,15 @@ public class MRReduceProfileLoader extends MRTaskProfileLoader {
 		}
 
 		int count = 0;
-		count += records.get(POS_SORT_MERGE).getProcess()
+		count += records.getProcess(POS_SORT_MERGE)
 				.equals(MERGE_MAP_DATA) ? 0 : 1;
-		count += records.get(POS_SORT_READ_WRITE).getProcess()
+		count += records.getProcess(POS_SORT_READ_WRITE)
 				.equals(READ_WRITE) ? 0 : 1;
-		count += records.get(POS_SORT_READ_WRITE_COUNT).getProcess()
+		count += records.getProcess(POS_SORT_READ_WRITE_COUNT)
 				.equals(READ_WRITE_COUNT) ? 0 : 1;
-		count += records.get(POS_SORT_UNCOMPRESS).getProcess()
+		count += records.getProcess(POS_SORT_UNCOMPRESS)
 				.equals(UNCOMPRESS) ? 0 : 1;
-		count += records.get(POS_SORT_COMPRESS).getProcess().equals(COMPRESS) ? 0
+		count += records.getProcess(POS_SORT_COMPRESS).equals(COMPRESS) ? 0
 				: 1;
 
 		if (count != 0)
@@ -599,7 +540,7 @@ public class MRReduceProfileLoader extends MRTaskProfileLoader {
 	 * @return true if the profile records are accurate
 	 * @throws ProfileFormatException
 	 */
-	private boolean validateReduceRecords(List<ProfileRecord> records)
+	private boolean validateReduceRecords(ProfileRecords records)
 			throws ProfileFormatException {
 		if (records == null)
 			return false;
@@ -611,36 +552,36 @@ public class MRReduceProfileLoader extends MRTaskProfileLoader {
 		}
 
 		int count = 0;
-		count += records.get(POS_REDUCE_STARTUP_MEM).getProcess()
+		count += records.getProcess(POS_REDUCE_STARTUP_MEM)
 				.equals(STARTUP_MEM) ? 0 : 1;
-		count += records.get(POS_REDUCE_SETUP).getProcess().equals(SETUP) ? 0
+		count += records.getProcess(POS_REDUCE_SETUP).equals(SETUP) ? 0
 				: 1;
-		count += records.get(POS_REDUCE_SETUP_MEM).getProcess()
+		count += records.getProcess(POS_REDUCE_SETUP_MEM)
 				.equals(SETUP_MEM) ? 0 : 1;
-		count += records.get(POS_REDUCE_CLEANUP).getProcess().equals(CLEANUP) ? 0
+		count += records.getProcess(POS_REDUCE_CLEANUP).equals(CLEANUP) ? 0
 				: 1;
-		count += records.get(POS_REDUCE_CLEANUP_MEM).getProcess()
+		count += records.getProcess(POS_REDUCE_CLEANUP_MEM)
 				.equals(CLEANUP_MEM) ? 0 : 1;
-		count += records.get(POS_REDUCE_TOTAL_RUN).getProcess()
+		count += records.getProcess(POS_REDUCE_TOTAL_RUN)
 				.equals(TOTAL_RUN) ? 0 : 1;
-		count += records.get(POS_REDUCE_READ).getProcess().equals(READ) ? 0 : 1;
-		count += records.get(POS_REDUCE_UNCOMPRESS).getProcess()
+		count += records.getProcess(POS_REDUCE_READ).equals(READ) ? 0 : 1;
+		count += records.getProcess(POS_REDUCE_UNCOMPRESS)
 				.equals(UNCOMPRESS) ? 0 : 1;
-		count += records.get(POS_REDUCE_REDUCE).getProcess().equals(REDUCE) ? 0
+		count += records.getProcess(POS_REDUCE_REDUCE).equals(REDUCE) ? 0
 				: 1;
-		count += records.get(POS_REDUCE_WRITE).getProcess().equals(WRITE) ? 0
+		count += records.getProcess(POS_REDUCE_WRITE).equals(WRITE) ? 0
 				: 1;
-		count += records.get(POS_REDUCE_COMPRESS).getProcess().equals(COMPRESS) ? 0
+		count += records.getProcess(POS_REDUCE_COMPRESS).equals(COMPRESS) ? 0
 				: 1;
-		count += records.get(POS_REDUCE_KEY_BYTE_COUNT).getProcess()
+		count += records.getProcess(POS_REDUCE_KEY_BYTE_COUNT)
 				.equals(KEY_BYTE_COUNT) ? 0 : 1;
-		count += records.get(POS_REDUCE_VALUE_BYTE_COUNT).getProcess()
+		count += records.getProcess(POS_REDUCE_VALUE_BYTE_COUNT)
 				.equals(VALUE_BYTE_COUNT) ? 0 : 1;
-		count += records.get(POS_REDUCE_MEM).getProcess().equals(REDUCE_MEM) ? 0
+		count += records.getProcess(POS_REDUCE_MEM).equals(REDUCE_MEM) ? 0
 				: 1;
-		count += records.get(POS_REDUCE_FINAL_WRITE).getProcess().equals(WRITE) ? 0
+		count += records.getProcess(POS_REDUCE_FINAL_WRITE).equals(WRITE) ? 0
 				: 1;
-		count += records.get(POS_REDUCE_FINAL_COMPRESS).getProcess()
+		count += records.getProcess(POS_REDUCE_FINAL_COMPRESS)
 				.equals(COMPRESS) ? 0 : 1;
 
 		if (count != 0)
@@ -651,4 +592,40 @@ public class MRReduceProfileLoader extends MRTaskProfileLoader {
 		return true;
 	}
 
+	/* ***************************************************************
+	 * PRIVATE CLASSES
+	 * ***************************************************************
+	 */
+
+	/**
+	 * The running aggregates of the shuffled segments. The segments of empty
+	 * map outputs are skipped.
+	 * 
+	 * @author hero
+	 */
+	private static class ShuffleGroups extends ProfileGroups {
+
+		// The indexes of the ratios
+		private int networkCost;
+		private int compressRatio;
+		private int uncompressCost;
+
+		/**
+		 * Default constructor
+		 */
+		public ShuffleGroups() {
+			super(UNCOMPRESS_BYTE_COUNT, COMPRESS_BYTE_COUNT, COPY_MAP_DATA,
+					UNCOMPRESS);
+			skipGroups(POS_SHUFFLE_UNCOMPR_BYTE_COUNT, 2l);
+
+			networkCost = addDiffRatio(POS_SHUFFLE_COPY_MAP_OUTPUT,
+					POS_SHUFFLE_UNCOMPRESS, POS_SHUFFLE_COMPR_BYTE_COUNT);
+			compressRatio = addRatio(POS_SHUFFLE_COMPR_BYTE_COUNT,
+					POS_SHUFFLE_UNCOMPR_BYTE_COUNT);
+			uncompressCost = addRatio(POS_SHUFFLE_UNCOMPRESS,
+					POS_SHUFFLE_COMPR_BYTE_COUNT);
+		}
+
+	}
+
 }
@@ -1,17 +1,17 @@
 package edu.duke.starfish.profile.profiler.loaders.tasks;
 
-import java.io.BufferedReader;
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.FileReader;
 import java.io.IOException;
-import java.util.ArrayList;
+import java.io.Reader;
+import java.util.Arrays;
 import java.util.EnumMap;
-import java.util.List;
 
 import org.apache.hadoop.conf.Configuration;
 
 import edu.duke.starfish.profile.profileinfo.execution.profile.MRTaskProfile;
+import edu.duke.starfish.profile.profileinfo.execution.profile.enums.MRCounter;
 
 /**
  * Base class for a task profile. This class is responsible for parsing the
@@ -21,6 +21,19 @@ import edu.duke.starfish.profile.profileinfo.execution.profile.MRTaskProfile;
  * meant to calculate the job's statistics, cost factors, and phase timings
  * based on the listing of all the profile records from the BTrace profile file.
  * 
+ * The profile file is parsed in a single pass over a character buffer, without
+ * creating any objects per line: the tokens and the known process names are
+ * matched against precomputed tables. The phases that repeat for every spill,
+ * shuffled segment, or merge are folded into running aggregates while parsing
+ * (see {@link ProfileGroups} and "createProfileGroups"), so their memory does
+ * not grow with the file. All other records are appended to primitive arrays
+ * (see {@link ProfileRecords}).
+ * 
+ * The tasks may also report their Hadoop counters with records of the form
+ * &lt;COUNTER TAB counter_name TAB value&gt;. The reported counters are added
+ * to the task profile before the profile is calculated, unless the profile
+ * already has them (e.g., from the job history).
+ * 
  * @author hero
  */
 public abstract class MRTaskProfileLoader {
@@ -35,11 +48,12 @@ public abstract class MRTaskProfileLoader {
 	protected Configuration conf; // The hadoop configuration
 	protected String profileFile; // the path to the profile file
 
-	private EnumMap<ProfileToken, ArrayList<ProfileRecord>> records;
+	private EnumMap<ProfileToken, ProfileRecords> records;
+	private EnumMap<ProfileToken, ProfileGroups> groups;
 	private boolean loaded; // Whether the file is loaded or not
 
 	// CONSTANTS
-	protected static final List<ProfileRecord> EMPTY_RECORDS = new ArrayList<ProfileRecord>(
+	protected static final ProfileRecords EMPTY_RECORDS = new ProfileRecords(
 			0);
 	protected static final String TAB = "\t";
 	protected static final double DEFAULT_COMPR_RATIO = 0.3;
@@ -78,6 +92,21 @@ public abstract class MRTaskProfileLoader {
 	protected static final String MAP_MEM = "MAP_MEM";
 	protected static final String REDUCE_MEM = "REDUCE_MEM";
 	protected static final String CLEANUP_MEM = "CLEANUP_MEM";
+	protected static final String RECORDS = "RECORDS";
+	protected static final String SAMPLED_RECORDS = "SAMPLED_RECORDS";
+
+	// CONSTANTS USED FOR THE STREAMING PARSER
+	private static final int BUFFER_SIZE = 8192;
+	private static final int MAX_FAST_DIGITS = 18;
+	private static final String[][] PROCESSES_BY_LENGTH = groupByLength(
+			TOTAL_RUN, SETUP, CLEANUP, READ, WRITE, COMPRESS, UNCOMPRESS, MAP,
+			REDUCE, COMBINE, PARTITION_OUTPUT, SERIALIZE_OUTPUT,
+			SORT_AND_SPILL, QUICK_SORT, SORT_COUNT, KEY_BYTE_COUNT,
+			VALUE_BYTE_COUNT, UNCOMPRESS_BYTE_COUNT, COMPRESS_BYTE_COUNT,
+			TRANSFER_COST, TOTAL_MERGE, READ_WRITE, READ_WRITE_COUNT,
+			COPY_MAP_DATA, MERGE_MAP_DATA, MERGE_IN_MEMORY, MERGE_TO_DISK,
+			STARTUP_MEM, SETUP_MEM, MAP_MEM, REDUCE_MEM, CLEANUP_MEM, RECORDS,
+			SAMPLED_RECORDS);
 
 	/**
 	 * Constructor
@@ -94,7 +123,9 @@ public abstract class MRTaskProfileLoader {
 		this.profile = profile;
 		this.conf = conf;
 		this.profileFile = profileFile;
-		this.records = new EnumMap<ProfileToken, ArrayList<ProfileRecord>>(
+		this.records = new EnumMap<ProfileToken, ProfileRecords>(
+				ProfileToken.class);
+		this.groups = new EnumMap<ProfileToken, ProfileGroups>(
 				ProfileToken.class);
 		this.loaded = false;
 	}
@@ -143,12 +174,45 @@ public abstract class MRTaskProfileLoader {
 			return true;
 		}
 
+		// Open the file for reading
+		Reader reader;
+		try {
+			reader = new FileReader(new File(profileFile));
+		} catch (FileNotFoundException e) {
+			System.err.println("Unable to find file: " + profileFile);
+			this.profile = profile;
+			loaded = true;
+			return false;
+		}
+
+		return loadExecutionProfile(profile, reader);
+	}
+
+	/**
+	 * Load the execution profile from the BTrace output in the reader instead
+	 * of the profile file, for example while the output is streamed from the
+	 * task. The reader is closed at the end.
+	 * 
+	 * @param profile
+	 *            the task profile to load
+	 * @param reader
+	 *            the reader with the profile records
+	 * @return true if the loading was successful
+	 */
+	public boolean loadExecutionProfile(MRTaskProfile profile, Reader reader) {
+
+		if (!this.profile.getTaskId().equalsIgnoreCase(profile.getTaskId())) {
+			closeReader(reader);
+			return false;
+		}
+
 		// Load the profile
 		this.profile = profile;
 		loaded = true;
 
 		try {
-			if (parseProfileFile()) {
+			if (parseProfile(reader)) {
+				addReportedCounters();
 				return loadExecutionProfile();
 			} else {
 				return false;
@@ -185,117 +249,85 @@ public abstract class MRTaskProfileLoader {
 	 *            the profile token of interest
 	 * @return a list of profile records
 	 */
-	protected List<ProfileRecord> getProfileRecords(ProfileToken token) {
+	protected ProfileRecords getProfileRecords(ProfileToken token) {
 		return records.get(token);
 	}
 
 	/**
-	 * This method is for records that come in groups. It aggregates the values
-	 * of the profile records for a particular position in each group.
+	 * Find and return the folded profile groups for this particular token.
 	 * 
-	 * @param records
-	 *            the profile records
-	 * @param groupSize
-	 *            the number of records in each group
-	 * @param pos
-	 *            the position in the group
-	 * @return the aggregate value
+	 * @param token
+	 *            the profile token of interest
+	 * @return the profile groups, or null if there were no such records
 	 */
-	protected long aggregateRecordValues(List<ProfileRecord> records,
-			int groupSize, int pos) {
-		long aggr = 0l;
-
-		for (int i = pos; i < records.size(); i += groupSize) {
-			aggr += records.get(i).getValue();
-		}
-
-		return aggr;
+	protected ProfileGroups getProfileGroups(ProfileToken token) {
+		return groups.get(token);
 	}
 
 	/**
-	 * This method is for records that come in groups. It averages the values of
-	 * the profile records for a particular position in each group.
+	 * Returns the profile groups into which the records of this token are
+	 * folded while parsing, or null to keep the individual records. It is
+	 * called once per token, when the first record of the token is parsed.
+	 * By default, all the records are kept.
 	 * 
-	 * @param records
-	 *            the profile records
-	 * @param groupSize
-	 *            the number of records in each group
-	 * @param pos
-	 *            the position in the group
-	 * @return the aggregate value
+	 * @param token
+	 *            the profile token
+	 * @return the profile groups or null
 	 */
-	protected double averageRecordValues(List<ProfileRecord> records,
-			int groupSize, int pos) {
-		double aggr = 0d;
-		int numGroups = 0;
-
-		for (int i = pos; i < records.size(); i += groupSize) {
-			aggr += records.get(i).getValue();
-			++numGroups;
-		}
-
-		return aggr / numGroups;
+	protected ProfileGroups createProfileGroups(ProfileToken token) {
+		return null;
 	}
 
 	/**
-	 * This method is for records that come in groups. It calculates the average
-	 * of the ratios (records[pos1] / records[pos2]) that occur in the groups of
-	 * the records.
+	 * Returns the factor for extrapolating the per-record durations and byte
+	 * counts, when only a sample of the records was profiled (see
+	 * Profiler.PROFILER_RECORD_SAMPLING_INTERVAL and
+	 * PROFILER_RECORD_SAMPLING_TIME_FRACTION). The factor equals the total
+	 * number of records over the number of sampled records, and it is 1 when
+	 * all the records were profiled.
 	 * 
-	 * @param records
-	 *            the profile records
-	 * @param groupSize
-	 *            the number of records in each group
-	 * @param pos1
-	 *            the numerator position
-	 * @param pos2
-	 *            the denominator position
-	 * @return the average of the ratios
+	 * @return the extrapolation factor
+	 * @throws ProfileFormatException
+	 *             if the sampling records are not correctly formatted
 	 */
-	protected double averageRecordValueRatios(List<ProfileRecord> records,
-			int groupSize, int pos1, int pos2) {
-		double sumRatios = 0d;
-		int numGroups = 0;
-
-		for (int i = 0; i < records.size(); i += groupSize) {
-			sumRatios += records.get(i + pos1).getValue()
-					/ (double) records.get(i + pos2).getValue();
-			++numGroups;
-		}
-
-		return sumRatios / numGroups;
+	protected double getRecordSamplingFactor() throws ProfileFormatException {
+		ProfileRecords sampleRecords = getProfileRecords(ProfileToken.SAMPLE);
+		if (sampleRecords == null)
+			return 1d;
+
+		if (sampleRecords.size() != 2
+				|| !sampleRecords.getProcess(0).equals(RECORDS)
+				|| !sampleRecords.getProcess(1).equals(SAMPLED_RECORDS))
+			throw new ProfileFormatException(
+					"Incorrect sequence of records in SAMPLE phase for "
+							+ this.profile.getTaskId());
+
+		long numRecords = sampleRecords.getValue(0);
+		long numSampled = sampleRecords.getValue(1);
+		if (numSampled == 0l || numRecords <= numSampled)
+			return 1d;
+
+		return numRecords / (double) numSampled;
 	}
 
 	/**
-	 * This method is for records that come in groups. It calculates the average
-	 * of the ratios ((records[pos1] - records[pos2]) / records[pos2]) that
-	 * occur in the groups of the records.
+	 * Multiplies the values of the profile records in the provided positions
+	 * with the provided factor
 	 * 
 	 * @param records
 	 *            the profile records
-	 * @param groupSize
-	 *            the number of records in each group
-	 * @param pos1
-	 *            the first numerator position
-	 * @param pos2
-	 *            the second numerator position to subtract
-	 * @param pos3
-	 *            the denominator position
-	 * @return the average of the ratios
+	 * @param factor
+	 *            the extrapolation factor
+	 * @param positions
+	 *            the positions of the records to extrapolate
 	 */
-	protected double averageProfileValueDiffRatios(List<ProfileRecord> records,
-			int groupSize, int pos1, int pos2, int pos3) {
-		double sumRatios = 0d;
-		int numGroups = 0;
-
-		for (int i = 0; i < records.size(); i += groupSize) {
-			sumRatios += (records.get(i + pos1).getValue() - records.get(
-					i + pos2).getValue())
-					/ (double) records.get(i + pos3).getValue();
-			++numGroups;
-		}
+	protected void extrapolateRecordValues(ProfileRecords records,
+			double factor, int... positions) {
+		if (factor == 1d)
+			return;
 
-		return sumRatios / numGroups;
+		for (int pos : positions)
+			records.setValue(pos, Math.round(records.getValue(pos) * factor));
 	}
 
 	/* ***************************************************************
@@ -304,99 +336,404 @@ public abstract class MRTaskProfileLoader {
 	 */
 
 	/**
-	 * Parses the profile file and creates a list of all the profile records
-	 * grouped based on the profile tokens
+	 * Close a reader, ignoring any errors
+	 * 
+	 * @param reader
+	 *            the reader
+	 */
+	private static void closeReader(Reader reader) {
+		try {
+			reader.close();
+		} catch (IOException e) {
+		}
+	}
+
+	/**
+	 * Add the counters reported in the COUNTER records to the task profile,
+	 * unless the profile already has them. Unknown counters are ignored.
+	 */
+	private void addReportedCounters() {
+		ProfileRecords counterRecords = getProfileRecords(ProfileToken.COUNTER);
+		if (counterRecords == null)
+			return;
+
+		for (int i = 0; i < counterRecords.size(); ++i) {
+			MRCounter counter;
+			try {
+				counter = MRCounter.valueOf(counterRecords.getProcess(i));
+			} catch (IllegalArgumentException e) {
+				continue;
+			}
+
+			if (!profile.containsCounter(counter))
+				profile.addCounter(counter, counterRecords.getValue(i));
+		}
+	}
+
+	/**
+	 * Parses the profile records from the reader and creates a list of all
+	 * the profile records grouped based on the profile tokens. The profile is
+	 * read in blocks of characters and each complete line is parsed in place.
 	 * 
+	 * @param reader
+	 *            the reader with the profile records (closed at the end)
 	 * @return true if successful
 	 * @throws ProfileFormatException
-	 *             if the file is not correctly formatted
+	 *             if the profile is not correctly formatted
 	 */
-	private boolean parseProfileFile() throws ProfileFormatException {
+	private boolean parseProfile(Reader reader) throws ProfileFormatException {
 
-		// Open the file for reading
-		BufferedReader br;
+		// Parse the log line-by-line and gather the profile records
+		char[] buf = new char[BUFFER_SIZE];
+		int len = 0; // The number of characters in the buffer
+		int scan = 0; // The next character to scan for a line end
+		int lineStart = 0; // The start of the current line
+		boolean skipLF = false; // Whether the previous character was a CR
 		try {
-			br = new BufferedReader(new FileReader(new File(profileFile)));
-		} catch (FileNotFoundException e) {
-			System.err.println("Unable to find file: " + profileFile);
+			while (true) {
+				// Parse all the complete lines in the buffer
+				for (; scan < len; ++scan) {
+					char c = buf[scan];
+					if (c == '\n' && skipLF) {
+						lineStart = scan + 1;
+					} else if (c == '\n' || c == '\r') {
+						if (!parseProfileLine(buf, lineStart, scan))
+							return false;
+						lineStart = scan + 1;
+					}
+					skipLF = (c == '\r');
+				}
+
+				// Keep the partial line at the start of the buffer
+				len -= lineStart;
+				if (lineStart > 0)
+					System.arraycopy(buf, lineStart, buf, 0, len);
+				else if (len == buf.length)
+					buf = Arrays.copyOf(buf, 2 * buf.length);
+				scan = len;
+				lineStart = 0;
+
+				int read = reader.read(buf, len, buf.length - len);
+				if (read == -1) {
+					// The last line may not end with a new line
+					if (len > 0)
+						return parseProfileLine(buf, 0, len);
+					break;
+				}
+				len += read;
+			}
+		} catch (IOException e) {
+			e.printStackTrace();
 			return false;
+		} finally {
+			closeReader(reader);
 		}
 
-		// Parse the log line-by-line and gather the profile records
-		String line = "";
-		String[] tokens;
-		ProfileToken token;
+		return true;
+	}
+
+	/**
+	 * Parses a single line of the profile file, of the form
+	 * &lt;Token TAB Process TAB Value&gt;, and adds the profile record
+	 * 
+	 * @param buf
+	 *            the buffer with the line
+	 * @param start
+	 *            the start of the line in the buffer
+	 * @param end
+	 *            the end of the line in the buffer (exclusive)
+	 * @return false if this is a memory profile, true otherwise
+	 * @throws ProfileFormatException
+	 *             if the line is not correctly formatted
+	 */
+	private boolean parseProfileLine(char[] buf, int start, int end)
+			throws ProfileFormatException {
+
+		int tokenEnd = indexOfTab(buf, start, end);
+		if (tokenEnd == -1)
+			tokenEnd = end;
+
+		// Check for and ignore a memory profile
+		if (regionEquals(buf, start, tokenEnd - start, SETUP))
+			return false;
+
+		ProfileToken token = ProfileToken.lookup(buf, start, tokenEnd - start);
+		if (token == null) {
+			// Output error and skip invalid lines
+			System.err.println("Invalid profile line: "
+					+ new String(buf, start, end - start));
+			return true;
+		}
+
+		// Find the process and the value
+		int processEnd = (tokenEnd < end) ? indexOfTab(buf, tokenEnd + 1,
+				end) : -1;
+		if (processEnd == -1)
+			throw new ProfileFormatException("Invalid profile line: "
+					+ new String(buf, start, end - start));
+		int valueEnd = indexOfTab(buf, processEnd + 1, end);
+		if (valueEnd == -1)
+			valueEnd = end;
+
+		String process = lookupProcess(buf, tokenEnd + 1, processEnd);
+		long value;
 		try {
-			while ((line = br.readLine()) != null) {
+			value = parseLong(buf, processEnd + 1, valueEnd);
+		} catch (NumberFormatException e) {
+			throw new ProfileFormatException("Invalid profile line: "
+					+ new String(buf, start, end - start), e);
+		}
 
-				// Check for and ignore a memory profile
-				tokens = line.split(TAB);
-				if (tokens[0].equals(SETUP))
-					return false;
+		// Fold the record into its groups or add the profile record
+		ProfileRecords tokenRecords = records.get(token);
+		if (tokenRecords == null) {
+			ProfileGroups tokenGroups = groups.get(token);
+			if (tokenGroups == null && !groups.containsKey(token)) {
+				tokenGroups = createProfileGroups(token);
+				groups.put(token, tokenGroups);
+			}
 
-				if (!ProfileToken.isValid(tokens[0])) {
-					// Output error and skip invalid lines
-					System.err.println("Invalid profile line: " + line);
-					continue;
-				}
+			if (tokenGroups != null) {
+				tokenGroups.add(process, value);
+				return true;
+			}
 
-				// Create the profile records
-				token = ProfileToken.valueOf(tokens[0]);
-				if (!records.containsKey(token))
-					records.put(token, new ArrayList<ProfileRecord>());
+			tokenRecords = new ProfileRecords(16);
+			records.put(token, tokenRecords);
+		}
+
+		tokenRecords.add(process, value);
+		return true;
+	}
 
-				records.get(token).add(
-						new ProfileRecord(token, tokens[1], Long
-								.parseLong(tokens[2])));
+	/**
+	 * Returns the process with the characters in the buffer. The known process
+	 * names are returned without creating a new string.
+	 * 
+	 * @param buf
+	 *            the buffer
+	 * @param start
+	 *            the start of the process in the buffer
+	 * @param end
+	 *            the end of the process in the buffer (exclusive)
+	 * @return the process
+	 */
+	private static String lookupProcess(char[] buf, int start, int end) {
+		int length = end - start;
+		if (length < PROCESSES_BY_LENGTH.length) {
+			for (String process : PROCESSES_BY_LENGTH[length]) {
+				if (regionEquals(buf, start, length, process))
+					return process;
 			}
-		} catch (IOException e) {
-			e.printStackTrace();
-			return false;
-		} catch (RuntimeException e) {
-			throw new ProfileFormatException("Invalid profile line: " + line, e);
 		}
 
+		return new String(buf, start, length);
+	}
+
+	/**
+	 * Parses the characters in the buffer as a signed decimal long, like
+	 * Long.parseLong
+	 * 
+	 * @param buf
+	 *            the buffer
+	 * @param start
+	 *            the start of the number in the buffer
+	 * @param end
+	 *            the end of the number in the buffer (exclusive)
+	 * @return the number
+	 * @throws NumberFormatException
+	 *             if the characters do not form a valid long
+	 */
+	private static long parseLong(char[] buf, int start, int end) {
+		int pos = start;
+		boolean negative = false;
+		if (pos < end && (buf[pos] == '-' || buf[pos] == '+')) {
+			negative = (buf[pos] == '-');
+			++pos;
+		}
+
+		if (pos == end || end - pos > MAX_FAST_DIGITS) {
+			// Empty or too long to accumulate without overflow checks
+			return Long.parseLong(new String(buf, start, end - start));
+		}
+
+		long value = 0l;
+		for (; pos < end; ++pos) {
+			int digit = buf[pos] - '0';
+			if (digit < 0 || digit > 9)
+				throw new NumberFormatException("For input string: \""
+						+ new String(buf, start, end - start) + "\"");
+			value = value * 10 + digit;
+		}
+
+		return negative ? -value : value;
+	}
+
+	/**
+	 * @param buf
+	 *            the buffer
+	 * @param start
+	 *            the first position to search
+	 * @param end
+	 *            the end of the search (exclusive)
+	 * @return the position of the first tab, or -1 if there is none
+	 */
+	private static int indexOfTab(char[] buf, int start, int end) {
+		for (int i = start; i < end; ++i) {
+			if (buf[i] == '\t')
+				return i;
+		}
+		return -1;
+	}
+
+	/**
+	 * @param buf
+	 *            the buffer
+	 * @param start
+	 *            the start of the region in the buffer
+	 * @param length
+	 *            the length of the region
+	 * @param str
+	 *            the string to compare with
+	 * @return true if the region of the buffer equals the string
+	 */
+	private static boolean regionEquals(char[] buf, int start, int length,
+			String str) {
+		if (length != str.length())
+			return false;
+
+		for (int i = 0; i < length; ++i) {
+			if (buf[start + i] != str.charAt(i))
+				return false;
+		}
 		return true;
 	}
 
+	/**
+	 * Groups the strings based on their length
+	 * 
+	 * @param strings
+	 *            the strings
+	 * @return an array with the strings of each length
+	 */
+	private static String[][] groupByLength(String... strings) {
+		int maxLength = 0;
+		for (String str : strings)
+			maxLength = Math.max(maxLength, str.length());
+
+		String[][] groups = new String[maxLength + 1][0];
+		for (String str : strings) {
+			String[] group = groups[str.length()];
+			if (Arrays.asList(group).contains(str))
+				continue;
+			group = Arrays.copyOf(group, group.length + 1);
+			group[group.length - 1] = str;
+			groups[str.length()] = group;
+		}
+
+		return groups;
+	}
+
 	/* ***************************************************************
 	 * HELPER CLASSES
 	 * ***************************************************************
 	 */
 
 	/**
-	 * Represent a profiling record of the form <Token Process Value>. A typical
-	 * example is a timing for a task phase. eg. <MAPPER CLEANUP 28635>. The
-	 * timing is in terms of nanoseconds.
+	 * The profile records of a single token, i.e., records of the form
+	 * <Token Process Value> with the same token. A typical example is a timing
+	 * for a task phase. eg. <MAPPER CLEANUP 28635>. The timing is in terms of
+	 * nanoseconds.
 	 * 
-	 * The natural order of profile records is based only on the token. Hence,
-	 * when a list of ProfileRecord objects is sorted, the elements are
-	 * essentially grouped together based on the tokens.
+	 * The processes and values are stored in parallel arrays, in the order in
+	 * which they appear in the profile file.
 	 * 
 	 * @author hero
 	 */
-	public static class ProfileRecord implements Comparable<ProfileRecord> {
+	public static class ProfileRecords {
 
 		/* ***************************************************************
 		 * DATA MEMBERS
 		 * ***************************************************************
 		 */
 
-		private ProfileToken token;
-		private String process;
-		private long value;
+		private String[] processes;
+		private long[] values;
+		private int size;
 
 		/**
 		 * Constructor
 		 * 
-		 * @param phase
+		 * @param capacity
+		 *            the initial capacity
+		 */
+		public ProfileRecords(int capacity) {
+			this.processes = new String[capacity];
+			this.values = new long[capacity];
+			this.size = 0;
+		}
+
+		/* ***************************************************************
+		 * PUBLIC METHODS
+		 * ***************************************************************
+		 */
+
+		/**
+		 * Add a profile record
+		 * 
 		 * @param process
+		 *            the process
 		 * @param value
+		 *            the value
+		 */
+		public void add(String process, long value) {
+			if (size == values.length) {
+				int capacity = Math.max(16, 2 * size);
+				processes = Arrays.copyOf(processes, capacity);
+				values = Arrays.copyOf(values, capacity);
+			}
+
+			processes[size] = process;
+			values[size] = value;
+			++size;
+		}
+
+		/**
+		 * @param index
+		 *            the index of the record
+		 * @return the process
 		 */
-		public ProfileRecord(ProfileToken phase, String process, long value) {
-			this.token = phase;
-			this.process = process;
-			this.value = value;
+		public String getProcess(int index) {
+			checkIndex(index);
+			return processes[index];
+		}
+
+		/**
+		 * @param index
+		 *            the index of the record
+		 * @return the value
+		 */
+		public long getValue(int index) {
+			checkIndex(index);
+			return values[index];
+		}
+
+		/**
+		 * @param index
+		 *            the index of the record
+		 * @param value
+		 *            the value to set
+		 */
+		public void setValue(int index, long value) {
+			checkIndex(index);
+			values[index] = value;
+		}
+
+		/**
+		 * @return the number of records
+		 */
+		public int size() {
+			return size;
 		}
 
 		/* ***************************************************************
@@ -405,31 +742,89 @@ public abstract class MRTaskProfileLoader {
 		 */
 
 		@Override
-		public int compareTo(ProfileRecord other) {
-			return this.token.compareTo(other.token);
+		public String toString() {
+			StringBuilder sb = new StringBuilder();
+			sb.append("ProfileRecords [");
+			for (int i = 0; i < size; ++i) {
+				if (i > 0)
+					sb.append(", ");
+				sb.append(processes[i]).append('=').append(values[i]);
+			}
+			sb.append(']');
+			return sb.toString();
 		}
 
-		@Override
-		public int hashCode() {
-			return token.hashCode();
-		}
+		/* ***************************************************************
+		 * PRIVATE METHODS
+		 * ***************************************************************
+		 */
 
-		@Override
-		public boolean equals(Object obj) {
-			if (this == obj)
-				return true;
-			if (obj == null)
-				return false;
-			if (!(obj instanceof ProfileRecord))
-				return false;
-			ProfileRecord other = (ProfileRecord) obj;
-			return token.equals(other.getPhase());
+		/**
+		 * @param index
+		 *            the index of the record
+		 * @throws IndexOutOfBoundsException
+		 *             if there is no record with this index
+		 */
+		private void checkIndex(int index) {
+			if (index >= size)
+				throw new IndexOutOfBoundsException("Index: " + index
+						+ ", Size: " + size);
 		}
 
-		@Override
-		public String toString() {
-			return "ProfileRecord [token=" + token + ", process=" + process
-					+ ", value=" + value + "]";
+	}
+
+	/**
+	 * The running aggregates of a phase that is profiled in groups of records
+	 * with the same token, e.g., one group of SPILL records per spill. Each
+	 * group must consist of the expected processes in the expected order.
+	 * 
+	 * The groups are folded as soon as they are complete: the values of each
+	 * position are summed, and so are the per-group ratios registered with
+	 * "addRatio" and "addDiffRatio". Subclasses may fold additional values by
+	 * overriding "foldGroup".
+	 * 
+	 * @author hero
+	 */
+	public static class ProfileGroups {
+
+		/* ***************************************************************
+		 * DATA MEMBERS
+		 * ***************************************************************
+		 */
+
+		private String[][] processes; // The expected processes per position
+		private long[] group; // The values of the current group
+		private int pos; // The position in the current group
+		private boolean valid; // Whether all processes were as expected
+
+		private long[] sums; // The sums of the values per position
+		private int numGroups; // The number of folded groups
+
+		private int[][] ratios; // The positions of the ratios
+		private double[] ratioSums; // The sums of the ratios
+
+		private int skipPos; // Position of the value of skipped groups
+		private long skipValue; // Value of skipped groups
+
+		/**
+		 * Constructor
+		 * 
+		 * @param processes
+		 *            the expected processes of each group
+		 */
+		public ProfileGroups(String... processes) {
+			this.processes = new String[processes.length][];
+			for (int i = 0; i < processes.length; ++i)
+				this.processes[i] = new String[] { processes[i] };
+
+			this.group = new long[processes.length];
+			this.pos = 0;
+			this.valid = true;
+			this.sums = new long[processes.length];
+			this.numGroups = 0;
+			this.ratios = new int[0][];
+			this.ratioSums = new double[0];
+			this.skipPos = -1;
 		}
 
 		/* ***************************************************************
@@ -438,24 +833,184 @@ public abstract class MRTaskProfileLoader {
 		 */
 
 		/**
-		 * @return the token
+		 * Allow an alternative process at a position of the groups
+		 * 
+		 * @param position
+		 *            the position in the group
+		 * @param process
+		 *            the alternative process
 		 */
-		public ProfileToken getPhase() {
-			return token;
+		public void allowProcess(int position, String process) {
+			String[] allowed = Arrays.copyOf(processes[position],
+					processes[position].length + 1);
+			allowed[allowed.length - 1] = process;
+			processes[position] = allowed;
 		}
 
 		/**
-		 * @return the process
+		 * Register the average of the ratios (group[num] / group[den]) over
+		 * the groups. Must be called before any record is added.
+		 * 
+		 * @param num
+		 *            the numerator position
+		 * @param den
+		 *            the denominator position
+		 * @return the index of the ratio
 		 */
-		public String getProcess() {
-			return process;
+		public int addRatio(int num, int den) {
+			return addDiffRatio(num, -1, den);
 		}
 
 		/**
-		 * @return the value
+		 * Register the average of the ratios ((group[num] - group[sub]) /
+		 * group[den]) over the groups. Must be called before any record is
+		 * added.
+		 * 
+		 * @param num
+		 *            the first numerator position
+		 * @param sub
+		 *            the second numerator position to subtract
+		 * @param den
+		 *            the denominator position
+		 * @return the index of the ratio
 		 */
-		public long getValue() {
-			return value;
+		public int addDiffRatio(int num, int sub, int den) {
+			ratios = Arrays.copyOf(ratios, ratios.length + 1);
+			ratios[ratios.length - 1] = new int[] { num, sub, den };
+			ratioSums = Arrays.copyOf(ratioSums, ratioSums.length + 1);
+			return ratios.length - 1;
+		}
+
+		/**
+		 * Skip the groups that have the value at the position, e.g., the
+		 * shuffled segments of empty map outputs
+		 * 
+		 * @param position
+		 *            the position in the group
+		 * @param value
+		 *            the value of the skipped groups
+		 */
+		public void skipGroups(int position, long value) {
+			this.skipPos = position;
+			this.skipValue = value;
+		}
+
+		/**
+		 * Add a profile record to the current group, and fold the group if it
+		 * is complete
+		 * 
+		 * @param process
+		 *            the process
+		 * @param value
+		 *            the value
+		 */
+		public void add(String process, long value) {
+			if (valid && !isAllowed(pos, process))
+				valid = false;
+
+			group[pos] = value;
+			++pos;
+			if (pos < group.length)
+				return;
+
+			pos = 0;
+			if (skipPos >= 0 && group[skipPos] == skipValue)
+				return;
+
+			++numGroups;
+			for (int i = 0; i < group.length; ++i)
+				sums[i] += group[i];
+			for (int i = 0; i < ratios.length; ++i) {
+				int[] ratio = ratios[i];
+				long num = (ratio[1] < 0) ? group[ratio[0]] : group[ratio[0]]
+						- group[ratio[1]];
+				ratioSums[i] += num / (double) group[ratio[2]];
+			}
+
+			foldGroup(group);
+		}
+
+		/**
+		 * @return true if all the processes were in the expected order
+		 */
+		public boolean isValid() {
+			return valid;
+		}
+
+		/**
+		 * @return true if the last group is complete
+		 */
+		public boolean isComplete() {
+			return pos == 0;
+		}
+
+		/**
+		 * @return the number of folded groups
+		 */
+		public int getNumGroups() {
+			return numGroups;
+		}
+
+		/**
+		 * @param position
+		 *            the position in the group
+		 * @return the sum of the values at the position
+		 */
+		public long getSum(int position) {
+			return sums[position];
+		}
+
+		/**
+		 * @param position
+		 *            the position in the group
+		 * @return the average of the values at the position
+		 */
+		public double getAverage(int position) {
+			return sums[position] / (double) numGroups;
+		}
+
+		/**
+		 * @param index
+		 *            the index of the registered ratio
+		 * @return the average of the ratio over the groups
+		 */
+		public double getAverageRatio(int index) {
+			return ratioSums[index] / numGroups;
+		}
+
+		/* ***************************************************************
+		 * PROTECTED METHODS
+		 * ***************************************************************
+		 */
+
+		/**
+		 * Fold any additional values of a complete group. The array is reused
+		 * for the next group.
+		 * 
+		 * @param group
+		 *            the values of the group
+		 */
+		protected void foldGroup(long[] group) {
+		}
+
+		/* ***************************************************************
+		 * PRIVATE METHODS
+		 * ***************************************************************
+		 */
+
+		/**
+		 * @param position
+		 *            the position in the group
+		 * @param process
+		 *            the process
+		 * @return true if the process is expected at the position
+		 */
+		private boolean isAllowed(int position, String process) {
+			for (String allowed : processes[position]) {
+				if (allowed.equals(process))
+					return true;
+			}
+			return false;
 		}
 
 	}
@@ -475,24 +1030,31 @@ public abstract class MRTaskProfileLoader {
 		SHUFFLE, // The shuffle phase in the reduce task
 		SORT, // The sort phase in the reduce task
 		REDUCE, // The reduce phase in the reduce task
+		SAMPLE, // The number of records when sampling the records
+		COUNTER, // The Hadoop counters reported by the task
 		MEMORY; // The memory traces
 
+		// The tokens in the order of their ordinals
+		private static final ProfileToken[] TOKENS = values();
+
 		/**
-		 * Check if input token is a valid ProfileToken
+		 * Find the token with the name in the buffer, without creating a
+		 * new string
 		 * 
-		 * @param token
-		 *            the profile token
-		 * @return true if it is a valid token
+		 * @param buf
+		 *            the buffer
+		 * @param start
+		 *            the start of the name in the buffer
+		 * @param length
+		 *            the length of the name
+		 * @return the profile token, or null if it is not a valid token
 		 */
-		private static boolean isValid(String token) {
-
-			try {
-				ProfileToken.valueOf(token);
-			} catch (RuntimeException e) {
-				return false;
+		private static ProfileToken lookup(char[] buf, int start, int length) {
+			for (ProfileToken token : TOKENS) {
+				if (regionEquals(buf, start, length, token.name()))
+					return token;
 			}
-
-			return true;
+			return null;
 		}
 	}
 
@@ -12,12 +12,11 @@ import java.util.Random;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.apache.hadoop.conf.Configuration;
-import org.apache.hadoop.mapreduce.InputFormat;
 import org.apache.hadoop.mapreduce.InputSplit;
 import org.apache.hadoop.mapreduce.JobContext;
-import org.apache.hadoop.util.ReflectionUtils;
 
 import edu.duke.starfish.profile.profiler.Profiler;
+import edu.duke.starfish.profile.utils.InputSplitCache;
 
 /**
  * Contains static methods for enabling sampling with profiling.
@@ -55,19 +54,10 @@ public class ProfileSampler {
 			return false;
 		}
 
-		// Get the input format
-		JobContext context = new JobContext(conf, null);
-		InputFormat<?, ?> input = null;
-		try {
-			input = ReflectionUtils.newInstance(context.getInputFormatClass(),
-					context.getConfiguration());
-		} catch (ClassNotFoundException e) {
-			throw new RuntimeException(e);
-		}
-
+		// Get the input splits (possibly from the split cache)
 		List<InputSplit> splits = null;
 		try {
-			splits = input.getSplits(context);
+			splits = InputSplitCache.getSplits(conf);
 		} catch (IOException e) {
 			e.printStackTrace();
 			return false;
@@ -0,0 +1,569 @@
+package edu.duke.starfish.profile.utils;
+
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.io.UnsupportedEncodingException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import edu.duke.starfish.profile.profileinfo.execution.profile.MRJobProfile;
+import edu.duke.starfish.profile.profileinfo.execution.profile.MRMapProfile;
+import edu.duke.starfish.profile.profileinfo.execution.profile.MRReduceProfile;
+import edu.duke.starfish.profile.profileinfo.execution.profile.MRTaskProfile;
+import edu.duke.starfish.profile.profileinfo.execution.profile.enums.MRCostFactors;
+import edu.duke.starfish.profile.profileinfo.execution.profile.enums.MRCounter;
+import edu.duke.starfish.profile.profileinfo.execution.profile.enums.MRStatistics;
+import edu.duke.starfish.profile.profileinfo.execution.profile.enums.MRTaskPhase;
+
+/**
+ * A parser for creating and reading binary profile files. A binary profile
+ * file contains the same information as the XML profile file (see
+ * {@link XMLProfileParser}), but it is memory-mapped and decoded without any
+ * text parsing, so it is much faster to load.
+ * 
+ * A binary profile file contains, in order:
+ * <ol>
+ * <li>the magic number and the format version</li>
+ * <li>the names of the counters, statistics, cost factors, and timings, in
+ * the order of the stored values, so that a file remains readable after the
+ * enums change</li>
+ * <li>the job id, the cluster name, the number of mappers and reducers, and
+ * the job inputs</li>
+ * <li>the task table with the id, input index, and number of tasks of the
+ * map profiles, followed by the reduce profile</li>
+ * <li>one fixed-size block per task profile, with a presence bitmap and an
+ * array of values for the counters, statistics, cost factors, and timings,
+ * so that each value is at a fixed offset from the start of the block</li>
+ * </ol>
+ * 
+ * The numbers are written in big-endian order and the strings are written as
+ * the length of their UTF-8 bytes followed by the bytes.
+ * 
+ * @author hero
+ */
+public class BinaryProfileParser {
+
+	/* ***************************************************************
+	 * DATA MEMBERS
+	 * ***************************************************************
+	 */
+
+	// Constants - file format
+	public static final int VERSION = 1;
+	public static final String BINARY_EXT = ".bin";
+	private static final int MAGIC = 0x53465052; // "SFPR"
+	private static final String XML_EXT = ".xml";
+	private static final String UTF8 = "UTF-8";
+
+	// Constants - the enum maps of a task profile
+	private static final int COUNTERS = 0;
+	private static final int STATS = 1;
+	private static final int FACTORS = 2;
+	private static final int TIMINGS = 3;
+	private static final int NUM_MAPS = 4;
+
+	private static final Enum<?>[][] KEYS = { MRCounter.values(),
+			MRStatistics.values(), MRCostFactors.values(),
+			MRTaskPhase.values() };
+
+	/* ***************************************************************
+	 * PUBLIC METHODS
+	 * ***************************************************************
+	 */
+
+	/**
+	 * Load a job profile from the binary file. The file is memory-mapped.
+	 * 
+	 * @param inputFile
+	 *            the input file to read from
+	 * @return the job profile
+	 */
+	public static MRJobProfile importJobProfile(File inputFile) {
+		RandomAccessFile raf = null;
+		try {
+			raf = new RandomAccessFile(inputFile, "r");
+			FileChannel channel = raf.getChannel();
+			return importJobProfile(channel.map(FileChannel.MapMode.READ_ONLY,
+					0, channel.size()));
+		} catch (IOException e) {
+			e.printStackTrace();
+			return null;
+		} finally {
+			try {
+				if (raf != null)
+					raf.close();
+			} catch (IOException e) {
+			}
+		}
+	}
+
+	/**
+	 * Load a job profile from the binary representation, starting at the
+	 * current position of the buffer
+	 * 
+	 * @param buffer
+	 *            the buffer to read from
+	 * @return the job profile
+	 */
+	public static MRJobProfile importJobProfile(ByteBuffer buffer) {
+
+		MRJobProfile jobProfile = null;
+		try {
+			// Check the header
+			ByteBuffer in = buffer.slice();
+			if (in.remaining() < 8 || in.getInt() != MAGIC)
+				throw new RuntimeException(
+						"ERROR: Bad binary profile: invalid magic number");
+			int version = in.getInt();
+			if (version != VERSION)
+				throw new RuntimeException("ERROR: Bad binary profile: "
+						+ "unsupported version " + version);
+
+			// Map the stored keys to the current enums
+			Enum<?>[][] keys = new Enum<?>[NUM_MAPS][];
+			for (int m = 0; m < NUM_MAPS; ++m)
+				keys[m] = readKeys(in, KEYS[m]);
+
+			// Get the profile attributes
+			jobProfile = new MRJobProfile(readString(in));
+			jobProfile.setClusterName(readString(in));
+			jobProfile.addCounter(MRCounter.MAP_TASKS, in.getLong());
+			jobProfile.addCounter(MRCounter.REDUCE_TASKS, in.getLong());
+
+			String[] inputs = new String[readCount(in)];
+			for (int i = 0; i < inputs.length; ++i)
+				inputs[i] = readString(in);
+			jobProfile.setJobInputs(inputs);
+
+			// Get the task table
+			int numMaps = readCount(in);
+			int numReduces = readCount(in);
+			MRTaskProfile[] taskProfs = new MRTaskProfile[numMaps
+					+ numReduces];
+			for (int i = 0; i < taskProfs.length; ++i) {
+				String taskId = readString(in);
+				int inputIndex = in.getInt();
+				int numTasks = in.getInt();
+				if (i < numMaps) {
+					MRMapProfile mapProf = new MRMapProfile(taskId);
+					mapProf.setInputIndex(inputIndex);
+					taskProfs[i] = mapProf;
+				} else {
+					taskProfs[i] = new MRReduceProfile(taskId);
+				}
+				taskProfs[i].setNumTasks(numTasks);
+			}
+
+			// Get the task blocks
+			int blockSize = getBlockSize(keys);
+			if (in.getInt() != blockSize)
+				throw new RuntimeException(
+						"ERROR: Bad binary profile: invalid block size");
+			int start = in.position();
+			if (in.limit() - start < (long) blockSize * taskProfs.length)
+				throw new BufferUnderflowException();
+
+			for (int i = 0; i < taskProfs.length; ++i) {
+				readBlock(in, start + i * blockSize, keys, taskProfs[i]);
+				if (i < numMaps)
+					jobProfile.addMapProfile((MRMapProfile) taskProfs[i]);
+				else
+					jobProfile.addReduceProfile((MRReduceProfile) taskProfs[i]);
+			}
+
+		} catch (BufferUnderflowException e) {
+			throw new RuntimeException(
+					"ERROR: Bad binary profile: unexpected end of data");
+		} catch (IndexOutOfBoundsException e) {
+			throw new RuntimeException(
+					"ERROR: Bad binary profile: unexpected end of data");
+		}
+
+		// Update the profile to calculate the average task profiles
+		jobProfile.updateProfile();
+		return jobProfile;
+	}
+
+	/**
+	 * Write the binary representation of the job profile to the provided
+	 * output file
+	 * 
+	 * @param jobProfile
+	 *            the job profile
+	 * @param outFile
+	 *            the output file
+	 */
+	public static void exportJobProfile(MRJobProfile jobProfile, File outFile) {
+		OutputStream out = null;
+		try {
+			out = new FileOutputStream(outFile);
+			exportJobProfile(jobProfile, out);
+		} catch (IOException e) {
+			e.printStackTrace();
+		} finally {
+			try {
+				if (out != null)
+					out.close();
+			} catch (IOException e) {
+			}
+		}
+	}
+
+	/**
+	 * Write the binary representation of the job profile to the provided
+	 * output stream. Similar to the XML profile, only the average task
+	 * profiles are written. The output stream is flushed but not closed.
+	 * 
+	 * @param jobProfile
+	 *            the job profile
+	 * @param out
+	 *            the output stream
+	 * @throws IOException
+	 */
+	public static void exportJobProfile(MRJobProfile jobProfile,
+			OutputStream out) throws IOException {
+
+		DataOutputStream dos = new DataOutputStream(new BufferedOutputStream(
+				out));
+
+		// Add the header and the enum keys
+		dos.writeInt(MAGIC);
+		dos.writeInt(VERSION);
+		for (Enum<?>[] keys : KEYS) {
+			dos.writeInt(keys.length);
+			for (Enum<?> key : keys)
+				writeString(dos, key.name());
+		}
+
+		// Add the job properties
+		writeString(dos, jobProfile.getJobId());
+		writeString(dos, jobProfile.getClusterName());
+		dos.writeLong(jobProfile.getCounter(MRCounter.MAP_TASKS, 0l));
+		dos.writeLong(jobProfile.getCounter(MRCounter.REDUCE_TASKS, 0l));
+
+		String[] jobInputs = jobProfile.getJobInputs();
+		dos.writeInt(jobInputs.length);
+		for (String jobInput : jobInputs)
+			writeString(dos, jobInput);
+
+		// Add the task table
+		List<MRMapProfile> mapProfs = jobProfile.getAvgMapProfiles();
+		MRReduceProfile redProf = jobProfile.getAvgReduceProfile();
+		int numReduces = redProf.isEmpty() ? 0 : 1;
+
+		dos.writeInt(mapProfs.size());
+		dos.writeInt(numReduces);
+		for (MRMapProfile mapProf : mapProfs) {
+			writeString(dos, mapProf.getTaskId());
+			dos.writeInt(mapProf.getInputIndex());
+			dos.writeInt(mapProf.getNumTasks());
+		}
+		if (numReduces == 1) {
+			writeString(dos, redProf.getTaskId());
+			dos.writeInt(0);
+			dos.writeInt(redProf.getNumTasks());
+		}
+
+		// Add the task blocks
+		dos.writeInt(getBlockSize(KEYS));
+		for (MRMapProfile mapProf : mapProfs)
+			writeBlock(dos, mapProf);
+		if (numReduces == 1)
+			writeBlock(dos, redProf);
+
+		dos.flush();
+	}
+
+	/**
+	 * Check whether a file is a binary profile file of the supported version,
+	 * based on its magic number and format version
+	 * 
+	 * @param file
+	 *            the file
+	 * @return true if the file is a supported binary profile file
+	 */
+	public static boolean isBinaryProfile(File file) {
+		DataInputStream in = null;
+		try {
+			in = new DataInputStream(new FileInputStream(file));
+			return file.length() >= 8 && in.readInt() == MAGIC
+					&& in.readInt() == VERSION;
+		} catch (IOException e) {
+			return false;
+		} finally {
+			try {
+				if (in != null)
+					in.close();
+			} catch (IOException e) {
+			}
+		}
+	}
+
+	/**
+	 * Get the binary profile file that corresponds to an XML profile file,
+	 * i.e., the file in the same directory with the ".bin" extension instead
+	 * of the ".xml" extension
+	 * 
+	 * @param xmlFile
+	 *            the XML profile file
+	 * @return the binary profile file
+	 */
+	public static File getBinaryFile(File xmlFile) {
+		String name = xmlFile.getName();
+		if (name.endsWith(XML_EXT))
+			name = name.substring(0, name.length() - XML_EXT.length());
+		return new File(xmlFile.getParentFile(), name + BINARY_EXT);
+	}
+
+	/**
+	 * Get the XML profile file that corresponds to a binary profile file
+	 * 
+	 * @param binaryFile
+	 *            the binary profile file
+	 * @return the XML profile file
+	 */
+	public static File getXMLFile(File binaryFile) {
+		String name = binaryFile.getName();
+		if (name.endsWith(BINARY_EXT))
+			name = name.substring(0, name.length() - BINARY_EXT.length());
+		return new File(binaryFile.getParentFile(), name + XML_EXT);
+	}
+
+	/* ***************************************************************
+	 * PRIVATE METHODS
+	 * ***************************************************************
+	 */
+
+	/**
+	 * @param numKeys
+	 *            the number of keys of an enum map
+	 * @return the number of longs in the presence bitmap of the enum map
+	 */
+	private static int getNumWords(int numKeys) {
+		return (numKeys + 63) >>> 6;
+	}
+
+	/**
+	 * @param keys
+	 *            the keys of the four enum maps
+	 * @return the size in bytes of a task block
+	 */
+	private static int getBlockSize(Enum<?>[][] keys) {
+		int size = 0;
+		for (Enum<?>[] mapKeys : keys)
+			size += 8 * (getNumWords(mapKeys.length) + mapKeys.length);
+		return size;
+	}
+
+	/**
+	 * Read the stored key names of an enum map and find the corresponding
+	 * enum values. Names that no longer exist in the enum are mapped to null.
+	 * 
+	 * @param in
+	 *            the buffer to read from
+	 * @param values
+	 *            the current enum values
+	 * @return the enum values in the stored order
+	 */
+	private static Enum<?>[] readKeys(ByteBuffer in, Enum<?>[] values) {
+		Enum<?>[] keys = new Enum<?>[readCount(in)];
+		for (int i = 0; i < keys.length; ++i) {
+			String name = readString(in);
+			if (i < values.length && values[i].name().equals(name)) {
+				keys[i] = values[i];
+			} else {
+				for (Enum<?> value : values) {
+					if (value.name().equals(name)) {
+						keys[i] = value;
+						break;
+					}
+				}
+			}
+		}
+		return keys;
+	}
+
+	/**
+	 * Read the counters, statistics, cost factors, and timings of the task
+	 * block into the task profile
+	 * 
+	 * @param in
+	 *            the buffer to read from
+	 * @param offset
+	 *            the offset of the block in the buffer
+	 * @param keys
+	 *            the keys of the four enum maps in the stored order
+	 * @param taskProf
+	 *            the task profile
+	 */
+	private static void readBlock(ByteBuffer in, int offset,
+			Enum<?>[][] keys, MRTaskProfile taskProf) {
+
+		for (int m = 0; m < NUM_MAPS; ++m) {
+			Enum<?>[] mapKeys = keys[m];
+			int numWords = getNumWords(mapKeys.length);
+			int valueOffset = offset + 8 * numWords;
+
+			for (int w = 0; w < numWords; ++w) {
+				long bits = in.getLong(offset + 8 * w);
+				while (bits != 0) {
+					int i = 64 * w + Long.numberOfTrailingZeros(bits);
+					bits &= bits - 1;
+					if (mapKeys[i] == null)
+						continue;
+
+					int pos = valueOffset + 8 * i;
+					switch (m) {
+					case COUNTERS:
+						taskProf.addCounter((MRCounter) mapKeys[i], in
+								.getLong(pos));
+						break;
+					case STATS:
+						taskProf.addStatistic((MRStatistics) mapKeys[i], in
+								.getDouble(pos));
+						break;
+					case FACTORS:
+						taskProf.addCostFactor((MRCostFactors) mapKeys[i], in
+								.getDouble(pos));
+						break;
+					case TIMINGS:
+						taskProf.addTiming((MRTaskPhase) mapKeys[i], in
+								.getDouble(pos));
+						break;
+					}
+				}
+			}
+
+			offset = valueOffset + 8 * mapKeys.length;
+		}
+	}
+
+	/**
+	 * Write the task block with the counters, statistics, cost factors, and
+	 * timings of the task profile
+	 * 
+	 * @param out
+	 *            the output to write to
+	 * @param taskProf
+	 *            the task profile
+	 * @throws IOException
+	 */
+	private static void writeBlock(DataOutputStream out, MRTaskProfile taskProf)
+			throws IOException {
+
+		long[] counters = new long[KEYS[COUNTERS].length];
+		long[] bits = new long[getNumWords(counters.length)];
+		for (Entry<MRCounter, Long> e : taskProf.getCounters().entrySet()) {
+			int i = e.getKey().ordinal();
+			bits[i >>> 6] |= 1l << i;
+			counters[i] = e.getValue();
+		}
+		for (long word : bits)
+			out.writeLong(word);
+		for (long counter : counters)
+			out.writeLong(counter);
+
+		writeDoubles(out, taskProf.getStatistics(), KEYS[STATS].length);
+		writeDoubles(out, taskProf.getCostFactors(), KEYS[FACTORS].length);
+		writeDoubles(out, taskProf.getTimings(), KEYS[TIMINGS].length);
+	}
+
+	/**
+	 * Write the presence bitmap and the values of an enum map with double
+	 * values
+	 * 
+	 * @param out
+	 *            the output to write to
+	 * @param map
+	 *            the enum map
+	 * @param numKeys
+	 *            the number of enum values
+	 * @throws IOException
+	 */
+	private static void writeDoubles(DataOutputStream out,
+			Map<? extends Enum<?>, Double> map, int numKeys)
+			throws IOException {
+
+		double[] values = new double[numKeys];
+		long[] bits = new long[getNumWords(numKeys)];
+		for (Entry<? extends Enum<?>, Double> e : map.entrySet()) {
+			int i = e.getKey().ordinal();
+			bits[i >>> 6] |= 1l << i;
+			values[i] = e.getValue();
+		}
+		for (long word : bits)
+			out.writeLong(word);
+		for (double value : values)
+			out.writeDouble(value);
+	}
+
+	/**
+	 * Read the number of elements that follow
+	 * 
+	 * @param in
+	 *            the buffer to read from
+	 * @return the number of elements
+	 */
+	private static int readCount(ByteBuffer in) {
+		int count = in.getInt();
+		if (count < 0 || count > in.remaining())
+			throw new BufferUnderflowException();
+		return count;
+	}
+
+	/**
+	 * Read a string, i.e., the length of its UTF-8 bytes followed by the
+	 * bytes. A negative length denotes a null string.
+	 * 
+	 * @param in
+	 *            the buffer to read from
+	 * @return the string (may be null)
+	 */
+	private static String readString(ByteBuffer in) {
+		int length = in.getInt();
+		if (length == -1)
+			return null;
+		else if (length < 0 || length > in.remaining())
+			throw new BufferUnderflowException();
+
+		byte[] bytes = new byte[length];
+		in.get(bytes);
+		try {
+			return new String(bytes, UTF8);
+		} catch (UnsupportedEncodingException e) {
+			throw new RuntimeException("ERROR: " + e.getMessage());
+		}
+	}
+
+	/**
+	 * Write a string as the length of its UTF-8 bytes followed by the bytes
+	 * 
+	 * @param out
+	 *            the output to write to
+	 * @param value
+	 *            the string (may be null)
+	 * @throws IOException
+	 */
+	private static void writeString(DataOutputStream out, String value)
+			throws IOException {
+		if (value == null) {
+			out.writeInt(-1);
+		} else {
+			byte[] bytes = value.getBytes(UTF8);
+			out.writeInt(bytes.length);
+			out.write(bytes);
+		}
+	}
+
+}
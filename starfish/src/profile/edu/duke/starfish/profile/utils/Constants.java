@@ -50,7 +50,12 @@ public class Constants {
 	public static final String MR_SFTOF = "org.apache.hadoop.mapreduce.lib.output.StarfishTextOutputFormat";
 
 	public static final String MR_INPUT_DIR = "mapred.input.dir";
+	public static final String MR_INPUT_PATH_FILTER = "mapred.input.pathFilter.class";
+	public static final String MR_MIN_SPLIT_SIZE = "mapred.min.split.size";
+	public static final String MR_MAX_SPLIT_SIZE = "mapred.max.split.size";
 	public static final String MR_OUTPUT_DIR = "mapred.output.dir";
+	public static final String DFS_BLOCK_SIZE = "dfs.block.size";
+	public static final String DFS_REPLICATION = "dfs.replication";
 
 	public static final String MR_TASK_PROFILE = "mapred.task.profile";
 	public static final String MR_TASK_PROFILE_MAPS = "mapred.task.profile.maps";
@@ -82,6 +87,7 @@ public class Constants {
 	public static final long DEF_TASK_MEM = 200l << 20;
 	public static final int DEF_MAX_MAP_TASKS = 2;
 	public static final int DEF_MAX_RED_TASKS = 2;
+	public static final int DEF_REPLICATION = 3;
 
 	public static final int DEF_SORT_MB = 100;
 	public static final float DEF_SPILL_PERC = 0.8f;
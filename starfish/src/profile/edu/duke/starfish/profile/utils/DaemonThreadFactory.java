@@ -0,0 +1,48 @@
+package edu.duke.starfish.profile.utils;
+
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A thread factory for named daemon threads. The thread pools of Starfish may
+ * run inside a Hadoop client or a job submission, so their threads must never
+ * prevent the JVM from exiting. The threads are named with the given prefix
+ * followed by a sequence number.
+ * 
+ * @author hero
+ */
+public class DaemonThreadFactory implements ThreadFactory {
+
+	/* ***************************************************************
+	 * DATA MEMBERS
+	 * ***************************************************************
+	 */
+
+	private String namePrefix; // The prefix of the thread names
+	private AtomicInteger count; // The number of threads created
+
+	/**
+	 * Constructor
+	 * 
+	 * @param namePrefix
+	 *            the prefix of the thread names
+	 */
+	public DaemonThreadFactory(String namePrefix) {
+		this.namePrefix = namePrefix;
+		this.count = new AtomicInteger(0);
+	}
+
+	/* ***************************************************************
+	 * OVERRIDEN METHODS
+	 * ***************************************************************
+	 */
+
+	@Override
+	public Thread newThread(Runnable runnable) {
+		Thread thread = new Thread(runnable, namePrefix
+				+ count.incrementAndGet());
+		thread.setDaemon(true);
+		return thread;
+	}
+
+}
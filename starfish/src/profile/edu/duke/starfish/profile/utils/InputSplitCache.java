@@ -0,0 +1,533 @@
+package edu.duke.starfish.profile.utils;
+
+import static edu.duke.starfish.profile.utils.Constants.MR_INPUT_PATH_FILTER;
+import static edu.duke.starfish.profile.utils.Constants.MR_MAX_SPLIT_SIZE;
+import static edu.duke.starfish.profile.utils.Constants.MR_MIN_SPLIT_SIZE;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.UnsupportedEncodingException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.text.NumberFormat;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.FileStatus;
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.mapreduce.InputFormat;
+import org.apache.hadoop.mapreduce.InputSplit;
+import org.apache.hadoop.mapreduce.JobContext;
+import org.apache.hadoop.mapreduce.lib.input.FileSplit;
+import org.apache.hadoop.util.ReflectionUtils;
+import org.apache.hadoop.util.StringUtils;
+
+/**
+ * A persistent cache with the summaries of the input splits of the jobs.
+ * Computing the input splits of a job requires listing the input directories
+ * and getting the block locations of every input file, which is very
+ * expensive for directories with many files. The cache stores the path,
+ * start, and length of each split in a local file, so that the what-if
+ * engine, the job optimizer, and the profile sampler compute the splits of
+ * the same input only once.
+ * 
+ * A cache entry is identified by the input format, the qualified input paths,
+ * and the settings that affect the split sizes. The entry is valid as long as
+ * the modification signature of the input paths has not changed. The
+ * signature consists of the paths, lengths, and modification times of the
+ * files and directories that match the input paths, which change whenever a
+ * file is added to or removed from an input directory.
+ * 
+ * ASSUMPTION: The input files are not modified in place, as in HDFS.
+ * 
+ * The cached splits are file splits without any locations, or generic splits
+ * with only a length for the input formats that do not produce file splits.
+ * 
+ * @author hero
+ */
+public class InputSplitCache {
+
+	/* ***************************************************************
+	 * DATA MEMBERS
+	 * ***************************************************************
+	 */
+
+	private static final Log LOG = LogFactory.getLog(InputSplitCache.class);
+
+	// Statistics for logging the hit rate
+	private static long numHits = 0l;
+	private static long numMisses = 0l;
+
+	// Constants - configuration
+	public static final String SPLIT_CACHE_ENABLED = "starfish.split.cache.enabled";
+	public static final String SPLIT_CACHE_DIR = "starfish.split.cache.dir";
+
+	// Constants - file format
+	public static final int VERSION = 1;
+	private static final int MAGIC = 0x53465343; // "SFSC"
+	private static final String CACHE_EXT = ".splits";
+	private static final String TEMP_EXT = ".tmp";
+	private static final String DEF_CACHE_DIR = "starfish-split-cache";
+	private static final String UTF8 = "UTF-8";
+	private static final String MD5 = "MD5";
+	private static final String[] SPLIT_SETTINGS = { MR_MIN_SPLIT_SIZE,
+			MR_MAX_SPLIT_SIZE, MR_INPUT_PATH_FILTER };
+
+	/* ***************************************************************
+	 * PUBLIC METHODS
+	 * ***************************************************************
+	 */
+
+	/**
+	 * Get the input splits of the job. The splits are loaded from the cache if
+	 * a valid entry exists. Otherwise, the splits are computed by the input
+	 * format of the job and added to the cache.
+	 * 
+	 * The cache is used only if it is enabled (the default) and the job has
+	 * input paths that exist.
+	 * 
+	 * @param conf
+	 *            the job configuration
+	 * @return the input splits
+	 * @throws IOException
+	 * @throws InterruptedException
+	 */
+	public static List<InputSplit> getSplits(Configuration conf)
+			throws IOException, InterruptedException {
+
+		JobContext context = new JobContext(conf, null);
+		InputFormat<?, ?> input = null;
+		try {
+			input = ReflectionUtils.newInstance(context.getInputFormatClass(),
+					context.getConfiguration());
+		} catch (ClassNotFoundException e) {
+			throw new RuntimeException(e);
+		}
+
+		File cacheFile = getCacheFile(conf);
+		String key = (cacheFile == null) ? null : getKey(conf, input);
+		String signature = (key == null) ? null : getSignature(conf);
+		if (signature == null) {
+			// The cache is not applicable
+			return input.getSplits(context);
+		}
+
+		// Look for a valid entry in the cache
+		List<InputSplit> splits = readSplits(cacheFile, key, signature);
+		if (splits != null) {
+			logAccess(true, conf);
+			return splits;
+		}
+
+		// Compute the splits and add them in the cache
+		logAccess(false, conf);
+		splits = input.getSplits(context);
+		if (splits != null)
+			writeSplits(cacheFile, key, signature, splits);
+
+		return splits;
+	}
+
+	/**
+	 * Remove the cache entry with the input splits of the job, if one exists
+	 * 
+	 * @param conf
+	 *            the job configuration
+	 * @return true if an entry was removed
+	 */
+	public static boolean invalidate(Configuration conf) {
+		File cacheFile = getCacheFile(conf);
+		return cacheFile != null && cacheFile.delete();
+	}
+
+	/**
+	 * Remove all the entries from the cache
+	 * 
+	 * @param conf
+	 *            the configuration with the cache directory
+	 * @return the number of entries removed
+	 */
+	public static int clear(Configuration conf) {
+		File[] files = getCacheDir(conf).listFiles();
+		if (files == null)
+			return 0;
+
+		int count = 0;
+		for (File file : files) {
+			if (file.getName().endsWith(CACHE_EXT) && file.delete())
+				++count;
+		}
+		return count;
+	}
+
+	/**
+	 * @return the number of times the splits were loaded from the cache
+	 */
+	public static synchronized long getNumHits() {
+		return numHits;
+	}
+
+	/**
+	 * @return the number of times the splits were not found in the cache
+	 */
+	public static synchronized long getNumMisses() {
+		return numMisses;
+	}
+
+	/* ***************************************************************
+	 * PRIVATE METHODS
+	 * ***************************************************************
+	 */
+
+	/**
+	 * Get the cache directory, specified by "starfish.split.cache.dir". The
+	 * default directory is under the temporary directory of the JVM.
+	 * 
+	 * @param conf
+	 *            the configuration
+	 * @return the cache directory
+	 */
+	private static File getCacheDir(Configuration conf) {
+		String dir = conf.get(SPLIT_CACHE_DIR);
+		if (dir == null)
+			return new File(System.getProperty("java.io.tmpdir"),
+					DEF_CACHE_DIR);
+		else
+			return new File(dir);
+	}
+
+	/**
+	 * Get the file of the cache entry for the input paths of the job. The
+	 * file name is the hash of the input paths, so that a stale entry is
+	 * replaced instead of accumulating in the cache directory.
+	 * 
+	 * @param conf
+	 *            the job configuration
+	 * @return the cache file, or null if the cache is not applicable
+	 */
+	private static File getCacheFile(Configuration conf) {
+		if (!conf.getBoolean(SPLIT_CACHE_ENABLED, true))
+			return null;
+
+		String[] inputDirs = ProfileUtils.getInputDirs(conf);
+		if (inputDirs.length == 0)
+			return null;
+
+		StringBuilder sb = new StringBuilder();
+		for (String inputDir : inputDirs)
+			sb.append(inputDir).append('\n');
+
+		return new File(getCacheDir(conf), hash(sb.toString()) + CACHE_EXT);
+	}
+
+	/**
+	 * Get the key of the cache entry, consisting of the input format, the
+	 * qualified input paths, and the split settings
+	 * 
+	 * @param conf
+	 *            the job configuration
+	 * @param input
+	 *            the input format
+	 * @return the key
+	 * @throws IOException
+	 */
+	private static String getKey(Configuration conf, InputFormat<?, ?> input)
+			throws IOException {
+		StringBuilder sb = new StringBuilder();
+		sb.append(input.getClass().getName()).append('\n');
+
+		for (String inputDir : ProfileUtils.getInputDirs(conf)) {
+			Path path = new Path(inputDir);
+			FileSystem fs = path.getFileSystem(conf);
+			sb.append(fs.makeQualified(path)).append('\n');
+		}
+
+		for (String setting : SPLIT_SETTINGS)
+			sb.append(setting).append('=').append(conf.get(setting)).append(
+					'\n');
+
+		return sb.toString();
+	}
+
+	/**
+	 * Get the modification signature of the input paths, i.e., the hash of
+	 * the paths, lengths, and modification times of the files and
+	 * directories that match the input paths
+	 * 
+	 * @param conf
+	 *            the job configuration
+	 * @return the signature, or null if an input path does not exist
+	 * @throws IOException
+	 */
+	private static String getSignature(Configuration conf) throws IOException {
+		StringBuilder sb = new StringBuilder();
+		for (String inputDir : ProfileUtils.getInputDirs(conf)) {
+			Path path = new Path(inputDir);
+			FileSystem fs = path.getFileSystem(conf);
+			FileStatus[] matches = fs.globStatus(path);
+			if (matches == null || matches.length == 0)
+				return null;
+
+			for (FileStatus status : matches) {
+				sb.append(status.getPath()).append('\t');
+				sb.append(status.getLen()).append('\t');
+				sb.append(status.getModificationTime()).append('\n');
+			}
+		}
+
+		return hash(sb.toString());
+	}
+
+	/**
+	 * Read the input splits from the cache file
+	 * 
+	 * @param cacheFile
+	 *            the cache file
+	 * @param key
+	 *            the key of the cache entry
+	 * @param signature
+	 *            the current modification signature of the input paths
+	 * @return the input splits, or null if the file does not exist or it is
+	 *         not valid
+	 */
+	private static List<InputSplit> readSplits(File cacheFile, String key,
+			String signature) {
+		if (!cacheFile.exists())
+			return null;
+
+		DataInputStream in = null;
+		try {
+			in = new DataInputStream(new BufferedInputStream(
+					new FileInputStream(cacheFile)));
+			if (in.readInt() != MAGIC || in.readInt() != VERSION
+					|| !in.readUTF().equals(hash(key))
+					|| !in.readUTF().equals(signature))
+				return null;
+
+			// Read the paths
+			int numPaths = in.readInt();
+			Path[] paths = new Path[numPaths];
+			for (int i = 0; i < numPaths; ++i)
+				paths[i] = new Path(in.readUTF());
+
+			// Read the splits
+			String[] hosts = new String[0];
+			int numSplits = in.readInt();
+			List<InputSplit> splits = new ArrayList<InputSplit>(numSplits);
+			for (int i = 0; i < numSplits; ++i) {
+				int pathIndex = in.readInt();
+				long start = in.readLong();
+				long length = in.readLong();
+				if (pathIndex == -1)
+					splits.add(new CachedSplit(length));
+				else
+					splits.add(new FileSplit(paths[pathIndex], start, length,
+							hosts));
+			}
+
+			return splits;
+		} catch (EOFException e) {
+			LOG.warn("Truncated split cache file " + cacheFile);
+			return null;
+		} catch (IOException e) {
+			LOG.warn("Unable to read the split cache file " + cacheFile, e);
+			return null;
+		} finally {
+			try {
+				if (in != null)
+					in.close();
+			} catch (IOException e) {
+			}
+		}
+	}
+
+	/**
+	 * Write the input splits into the cache file. The splits are first written
+	 * into a temporary file, which then replaces the cache file, so that a
+	 * concurrent reader never sees a partial file.
+	 * 
+	 * @param cacheFile
+	 *            the cache file
+	 * @param key
+	 *            the key of the cache entry
+	 * @param signature
+	 *            the modification signature of the input paths
+	 * @param splits
+	 *            the input splits
+	 */
+	private static void writeSplits(File cacheFile, String key,
+			String signature, List<InputSplit> splits) {
+
+		File dir = cacheFile.getParentFile();
+		if (!dir.exists() && !dir.mkdirs() && !dir.exists()) {
+			LOG.warn("Unable to create the split cache directory " + dir);
+			return;
+		}
+
+		File tempFile = null;
+		DataOutputStream out = null;
+		try {
+			tempFile = File.createTempFile(cacheFile.getName(), TEMP_EXT, dir);
+			out = new DataOutputStream(new BufferedOutputStream(
+					new FileOutputStream(tempFile)));
+
+			out.writeInt(MAGIC);
+			out.writeInt(VERSION);
+			out.writeUTF(hash(key));
+			out.writeUTF(signature);
+
+			// Write the distinct paths
+			Map<Path, Integer> pathIndexes = new HashMap<Path, Integer>();
+			List<Path> paths = new ArrayList<Path>();
+			for (InputSplit split : splits) {
+				if (split instanceof FileSplit) {
+					Path path = ((FileSplit) split).getPath();
+					if (!pathIndexes.containsKey(path)) {
+						pathIndexes.put(path, paths.size());
+						paths.add(path);
+					}
+				}
+			}
+			out.writeInt(paths.size());
+			for (Path path : paths)
+				out.writeUTF(path.toString());
+
+			// Write the splits
+			out.writeInt(splits.size());
+			for (InputSplit split : splits) {
+				if (split instanceof FileSplit) {
+					FileSplit fileSplit = (FileSplit) split;
+					out.writeInt(pathIndexes.get(fileSplit.getPath()));
+					out.writeLong(fileSplit.getStart());
+				} else {
+					out.writeInt(-1);
+					out.writeLong(0l);
+				}
+				out.writeLong(split.getLength());
+			}
+
+			out.close();
+			out = null;
+
+			cacheFile.delete();
+			if (!tempFile.renameTo(cacheFile))
+				LOG.warn("Unable to create the split cache file " + cacheFile);
+		} catch (IOException e) {
+			LOG.warn("Unable to write the split cache file " + cacheFile, e);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} finally {
+			try {
+				if (out != null)
+					out.close();
+			} catch (IOException e) {
+			}
+			if (tempFile != null)
+				tempFile.delete();
+		}
+	}
+
+	/**
+	 * Update the cache statistics and log the access with the hit rate. The
+	 * misses are logged as info and the hits as debug messages.
+	 * 
+	 * @param hit
+	 *            whether the splits were found in the cache
+	 * @param conf
+	 *            the job configuration
+	 */
+	private static synchronized void logAccess(boolean hit,
+			Configuration conf) {
+		if (hit)
+			++numHits;
+		else
+			++numMisses;
+
+		if (hit ? LOG.isDebugEnabled() : LOG.isInfoEnabled()) {
+			NumberFormat nf = NumberFormat.getPercentInstance();
+			nf.setMaximumFractionDigits(2);
+			String message = "Input split cache " + (hit ? "hit" : "miss")
+					+ " for "
+					+ StringUtils.arrayToString(ProfileUtils.getInputDirs(conf))
+					+ " (hit rate: "
+					+ nf.format(numHits / (double) (numHits + numMisses))
+					+ ")";
+			if (hit)
+				LOG.debug(message);
+			else
+				LOG.info(message);
+		}
+	}
+
+	/**
+	 * @param text
+	 *            the text to hash
+	 * @return the MD5 hash of the text in hexadecimal
+	 */
+	private static String hash(String text) {
+		try {
+			byte[] digest = MessageDigest.getInstance(MD5).digest(
+					text.getBytes(UTF8));
+			StringBuilder sb = new StringBuilder(2 * digest.length);
+			for (byte b : digest) {
+				sb.append(Character.forDigit((b >> 4) & 0xF, 16));
+				sb.append(Character.forDigit(b & 0xF, 16));
+			}
+			return sb.toString();
+		} catch (NoSuchAlgorithmException e) {
+			throw new RuntimeException(e);
+		} catch (UnsupportedEncodingException e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+	/* ***************************************************************
+	 * PRIVATE CLASSES
+	 * ***************************************************************
+	 */
+
+	/**
+	 * A cached input split that is not a file split, for which only the
+	 * length is known
+	 * 
+	 * @author hero
+	 */
+	private static class CachedSplit extends InputSplit {
+
+		private long length; // The length of the split
+
+		/**
+		 * Constructor
+		 * 
+		 * @param length
+		 *            the length of the split
+		 */
+		public CachedSplit(long length) {
+			this.length = length;
+		}
+
+		@Override
+		public long getLength() {
+			return length;
+		}
+
+		@Override
+		public String[] getLocations() {
+			return new String[0];
+		}
+	}
+
+}
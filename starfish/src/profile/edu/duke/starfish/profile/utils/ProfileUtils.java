@@ -10,6 +10,8 @@ import java.util.List;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
 import org.apache.hadoop.conf.Configuration;
 import org.apache.hadoop.util.StringUtils;
 
@@ -43,6 +45,8 @@ public class ProfileUtils {
 	 * DATA MEMBERS
 	 * ***************************************************************
 	 */
+	private static final Log LOG = LogFactory.getLog(ProfileUtils.class);
+
 	private static final String TAB = "\t";
 
 	private static final Pattern jvmMem = Pattern
@@ -385,6 +389,26 @@ public class ProfileUtils {
 		if (conf.getBoolean(MR_COMPRESS_OUT, false) == true)
 			return true;
 
+		return isMROutputPathCompressionOn(conf, outPaths);
+	}
+
+	/**
+	 * Determine whether the MapReduce output compression is on or off based
+	 * only on the extension of the output paths (i.e., ignoring the official
+	 * Hadoop parameter).
+	 * 
+	 * Note: if no output paths are provided, this method will access the conf
+	 * to get the output paths
+	 * 
+	 * @param conf
+	 *            the configuration
+	 * @param outPaths
+	 *            the output paths
+	 * @return true if the output paths imply output compression
+	 */
+	public static boolean isMROutputPathCompressionOn(Configuration conf,
+			String... outPaths) {
+
 		if (outPaths == null || outPaths.length == 0)
 			outPaths = ProfileUtils.getOutputDirs(conf);
 
@@ -423,6 +447,42 @@ public class ProfileUtils {
 			return false;
 	}
 
+	/**
+	 * Loads the job profile from a binary or an XML profile file. For an XML
+	 * profile file, the corresponding binary profile file is preferred when it
+	 * exists and is at least as recent as the XML file, since it is much
+	 * faster to load (see {@link BinaryProfileParser}). If the binary profile
+	 * file cannot be loaded (e.g., it is truncated or it was written by an
+	 * unsupported version), the XML profile file is loaded instead.
+	 * 
+	 * @param profileFile
+	 *            the binary or XML profile file
+	 * @return the job profile, or null if no valid file exists
+	 */
+	public static MRJobProfile loadJobProfile(File profileFile) {
+
+		MRJobProfile profile = null;
+		if (profileFile.getName().endsWith(BinaryProfileParser.BINARY_EXT)) {
+			// Binary profile file, with the XML profile file as a fallback
+			if (profileFile.exists())
+				profile = loadBinaryJobProfile(profileFile);
+			profileFile = BinaryProfileParser.getXMLFile(profileFile);
+			if (profile != null)
+				return profile;
+		}
+
+		boolean exists = profileFile.exists();
+		File binaryFile = BinaryProfileParser.getBinaryFile(profileFile);
+		if (binaryFile.exists()
+				&& (!exists || binaryFile.lastModified() >= profileFile
+						.lastModified()))
+			profile = loadBinaryJobProfile(binaryFile);
+
+		if (profile == null && exists)
+			profile = XMLProfileParser.importJobProfile(profileFile);
+		return profile;
+	}
+
 	/**
 	 * Finds and loads the source profile based on either a job profile id or a
 	 * profile file path.
@@ -444,7 +504,7 @@ public class ProfileUtils {
 		File profFile = new File(profileIdOrFile);
 		if (profFile.exists()) {
 			// profileIdOrFile is a file
-			return XMLProfileParser.importJobProfile(profFile);
+			return loadJobProfile(profFile);
 		} else {
 			// profileIdOrFile is a job id
 			MRJobLogsManager manager = new MRJobLogsManager();
@@ -635,7 +695,8 @@ public class ProfileUtils {
 
 	/**
 	 * Prints out a timeline with the task execution of a job. It produces
-	 * tabular data of the form "Time\tMaps\tShuffle\tMerge\tReduce\tWaste"
+	 * tabular data of the form
+	 * "Time\tMaps\tShuffle\tMerge\tReduce\tWaste\tRackLocalMaps\tNonLocalMaps"
 	 * 
 	 * @param out
 	 *            The print stream to print at
@@ -643,10 +704,28 @@ public class ProfileUtils {
 	 *            the MR job of interest
 	 */
 	public static void printMRJobTimeline(PrintStream out, MRJobInfo mrJob) {
+		printMRJobTimeline(out, mrJob, TimelineCalc.DEFAULT_RESOLUTION);
+	}
+
+	/**
+	 * Prints out a timeline with the task execution of a job, with one row per
+	 * time bucket of the provided resolution. It produces tabular data of the
+	 * form
+	 * "Time\tMaps\tShuffle\tMerge\tReduce\tWaste\tRackLocalMaps\tNonLocalMaps"
+	 * 
+	 * @param out
+	 *            The print stream to print at
+	 * @param mrJob
+	 *            the MR job of interest
+	 * @param resolution
+	 *            the duration of a time bucket in ms
+	 */
+	public static void printMRJobTimeline(PrintStream out, MRJobInfo mrJob,
+			long resolution) {
 
 		// Calculate and print out the timeline
 		TimelineCalc timeline = new TimelineCalc(mrJob.getStartTime(),
-				mrJob.getEndTime());
+				mrJob.getEndTime(), resolution);
 		timeline.addJob(mrJob);
 		timeline.printTimeline(out);
 	}
@@ -733,6 +812,29 @@ public class ProfileUtils {
 	 * ***************************************************************
 	 */
 
+	/**
+	 * Loads the job profile from a binary profile file. Any failure to load
+	 * the file is logged and null is returned.
+	 * 
+	 * @param binaryFile
+	 *            the binary profile file
+	 * @return the job profile, or null if the file is not a valid binary
+	 *         profile file
+	 */
+	private static MRJobProfile loadBinaryJobProfile(File binaryFile) {
+		if (!BinaryProfileParser.isBinaryProfile(binaryFile)) {
+			LOG.warn("Ignoring invalid binary profile " + binaryFile);
+			return null;
+		}
+
+		try {
+			return BinaryProfileParser.importJobProfile(binaryFile);
+		} catch (RuntimeException e) {
+			LOG.warn("Unable to load the binary profile " + binaryFile, e);
+			return null;
+		}
+	}
+
 	/**
 	 * This functions expects as input two profiles for the same map; the first
 	 * map should be profiled without compression enabled, and the second with
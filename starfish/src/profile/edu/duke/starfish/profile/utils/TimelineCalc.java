@@ -1,6 +1,7 @@
 package edu.duke.starfish.profile.utils;
 
 import java.io.PrintStream;
+import java.util.Arrays;
 import java.util.Date;
 
 import edu.duke.starfish.profile.profileinfo.execution.MRExecutionStatus;
@@ -13,7 +14,16 @@ import edu.duke.starfish.profile.profileinfo.execution.mrtasks.MRReduceInfo;
 /**
  * Constructs and prints out a timeline with the task execution of a job. The
  * {@link TimelineCalc#printTimeline(PrintStream)} produces tabular data of the
- * form "Time\tMaps\tShuffle\tMerge\tReduce\tWaste"
+ * form "Time\tMaps\tShuffle\tMerge\tReduce\tWaste\tRackLocalMaps\tNonLocalMaps"
+ * 
+ * The rack-local and non-local maps are also included in the maps.
+ * 
+ * The timeline is divided into time buckets of a configurable resolution (one
+ * second by default, down to one millisecond). Each task attempt only records
+ * a start and an end event per series, so adding a job takes time
+ * proportional to its number of attempts, regardless of their durations. The
+ * events are sorted and prefix-summed the first time the timeline is queried
+ * after jobs are added. Hence, jobs can be added incrementally.
  * 
  * @author hero
  */
@@ -24,17 +34,35 @@ public class TimelineCalc {
 	 * ***************************************************************
 	 */
 
-	private int[] mappers;
-	private int[] shuffling;
-	private int[] sorting;
-	private int[] reducing;
-	private int[] waste;
+	private long resolution; // The bucket duration in ms
+	private long startBucket; // The absolute bucket of the timeline start
+	private long numBuckets; // The number of buckets in the timeline
+
+	private long[] events; // The encoded start and end events
+	private int numEvents; // The number of events
+
+	private long[] changes; // The buckets where some count changes
+	private int[][] counts; // The counts per series from each change on
 
-	private long grandStart;
-	private int grandDuration;
+	// The series of the timeline
+	public static final int MAPS = 0;
+	public static final int SHUFFLE = 1;
+	public static final int MERGE = 2;
+	public static final int REDUCE = 3;
+	public static final int WASTE = 4;
+	public static final int RACK_LOCAL_MAPS = 5;
+	public static final int NON_LOCAL_MAPS = 6;
+	public static final int NUM_SERIES = 7;
+
+	// Constants
+	public static final long DEFAULT_RESOLUTION = 1000l;
+
+	private static final int INIT_CAPACITY = 256;
+	private static final int CODE_BITS = 4; // Bits for the series and sign
+	private static final long CODE_MASK = (1l << CODE_BITS) - 1;
 
 	/**
-	 * Constructor
+	 * Constructor for a timeline with a resolution of one second
 	 * 
 	 * @param start
 	 *            start time of timeline
@@ -42,22 +70,54 @@ public class TimelineCalc {
 	 *            end time of timeline
 	 */
 	public TimelineCalc(Date start, Date end) {
+		this(start, end, DEFAULT_RESOLUTION);
+	}
+
+	/**
+	 * Constructor
+	 * 
+	 * @param start
+	 *            start time of timeline
+	 * @param end
+	 *            end time of timeline
+	 * @param resolution
+	 *            the duration of a time bucket in ms
+	 */
+	public TimelineCalc(Date start, Date end, long resolution) {
+
+		if (resolution <= 0)
+			throw new RuntimeException("ERROR: Invalid timeline resolution: "
+					+ resolution);
 
 		// Initializations
-		grandStart = start.getTime() / 1000;
-		grandDuration = (int) Math
-				.ceil((end.getTime() - start.getTime()) / 1000d);
-
-		// Create and initialize the counter arrays
-		mappers = new int[grandDuration];
-		shuffling = new int[grandDuration];
-		sorting = new int[grandDuration];
-		reducing = new int[grandDuration];
-		waste = new int[grandDuration];
-
-		for (int i = 0; i < grandDuration; ++i) {
-			mappers[i] = shuffling[i] = sorting[i] = reducing[i] = waste[i] = 0;
-		}
+		this.resolution = resolution;
+		this.startBucket = start.getTime() / resolution;
+		this.numBuckets = (long) Math.ceil((end.getTime() - start.getTime())
+				/ (double) resolution);
+
+		this.events = new long[INIT_CAPACITY];
+		this.numEvents = 0;
+		this.changes = null;
+		this.counts = null;
+	}
+
+	/* ***************************************************************
+	 * GETTERS AND SETTERS
+	 * ***************************************************************
+	 */
+
+	/**
+	 * @return the duration of a time bucket in ms
+	 */
+	public long getResolution() {
+		return resolution;
+	}
+
+	/**
+	 * @return the number of time buckets in the timeline
+	 */
+	public long getNumBuckets() {
+		return numBuckets;
 	}
 
 	/* ***************************************************************
@@ -75,32 +135,40 @@ public class TimelineCalc {
 	public void addJob(MRJobInfo mrJob) {
 
 		// Error checking
-		if (mrJob.getStartTime().getTime() / 1000 < grandStart)
+		if (getBucket(mrJob.getStartTime()) < 0)
 			throw new RuntimeException(
 					"The job's start time cannot be before the grand start time");
-		if (mrJob.getEndTime().getTime() / 1000 > grandStart + grandDuration)
+		if (getBucket(mrJob.getEndTime()) > numBuckets)
 			throw new RuntimeException(
 					"The job's end time cannot be after the grand end time");
 
 		boolean success = true;
-		int start = 0;
-		int shuffle = 0;
-		int sort = 0;
-		int end = 0;
-		int time = 0;
+		long start = 0;
+		long shuffle = 0;
+		long sort = 0;
+		long end = 0;
 
 		// Count the map tasks
 		for (MRMapInfo mrMap : mrJob.getMapTasks()) {
 			for (MRMapAttemptInfo mrMapAttempt : mrMap.getAttempts()) {
 				success = mrMapAttempt.getStatus() == MRExecutionStatus.SUCCESS;
-				start = (int) (mrMapAttempt.getStartTime().getTime() / 1000 - grandStart);
-				end = (int) (mrMapAttempt.getEndTime().getTime() / 1000 - grandStart);
+				start = getBucket(mrMapAttempt.getStartTime());
+				end = getBucket(mrMapAttempt.getEndTime());
 				if (success) {
-					for (time = start; time < end; ++time)
-						++mappers[time];
+					addInterval(MAPS, start, end);
+
+					switch (mrMapAttempt.getDataLocality()) {
+					case RACK_LOCAL:
+						addInterval(RACK_LOCAL_MAPS, start, end);
+						break;
+					case NON_LOCAL:
+						addInterval(NON_LOCAL_MAPS, start, end);
+						break;
+					default:
+						break;
+					}
 				} else {
-					for (time = start; time < end; ++time)
-						++waste[time];
+					addInterval(WASTE, start, end);
 				}
 			}
 		}
@@ -109,31 +177,115 @@ public class TimelineCalc {
 		for (MRReduceInfo mrRed : mrJob.getReduceTasks()) {
 			for (MRReduceAttemptInfo mrRedAttempt : mrRed.getAttempts()) {
 				success = mrRedAttempt.getStatus() == MRExecutionStatus.SUCCESS;
-				start = (int) (mrRedAttempt.getStartTime().getTime() / 1000 - grandStart);
-				end = (int) (mrRedAttempt.getEndTime().getTime() / 1000 - grandStart);
+				start = getBucket(mrRedAttempt.getStartTime());
+				end = getBucket(mrRedAttempt.getEndTime());
 
 				if (success) {
-					shuffle = (int) (mrRedAttempt.getShuffleEndTime().getTime() / 1000 - grandStart);
-					sort = (int) (mrRedAttempt.getSortEndTime().getTime() / 1000 - grandStart);
-
-					for (time = start; time < shuffle; ++time)
-						++shuffling[time];
-					for (time = shuffle; time < sort; ++time)
-						++sorting[time];
-					for (time = sort; time < end; ++time)
-						++reducing[time];
+					shuffle = getBucket(mrRedAttempt.getShuffleEndTime());
+					sort = getBucket(mrRedAttempt.getSortEndTime());
+
+					addInterval(SHUFFLE, start, shuffle);
+					addInterval(MERGE, shuffle, sort);
+					addInterval(REDUCE, sort, end);
 				} else {
-					for (time = start; time < end; ++time)
-						++waste[time];
+					addInterval(WASTE, start, end);
 				}
 			}
 		}
 
 	}
 
+	/**
+	 * Get the count of a series at a particular time
+	 * 
+	 * @param series
+	 *            the series (e.g., {@link #MAPS})
+	 * @param time
+	 *            the time
+	 * @return the count of the series in the time bucket of the time
+	 */
+	public int getCount(int series, Date time) {
+		long bucket = getBucket(time);
+		if (bucket < 0 || bucket >= numBuckets)
+			return 0;
+
+		ensurePrefixSums();
+		int change = findChange(bucket);
+		return (change < 0) ? 0 : counts[series][change];
+	}
+
+	/**
+	 * Get the counts of a series in the time buckets from the bucket of the
+	 * start time up to the bucket of the end time inclusive. The range is
+	 * limited to the timeline.
+	 * 
+	 * @param series
+	 *            the series (e.g., {@link #MAPS})
+	 * @param start
+	 *            the start time
+	 * @param end
+	 *            the end time
+	 * @return the counts of the series, one per time bucket
+	 */
+	public int[] getCounts(int series, Date start, Date end) {
+		long first = Math.max(0l, getBucket(start));
+		long last = Math.min(numBuckets - 1, getBucket(end));
+		if (last < first)
+			return new int[0];
+		if (last - first >= Integer.MAX_VALUE)
+			throw new RuntimeException("ERROR: Too many time buckets in range");
+
+		ensurePrefixSums();
+		int[] result = new int[(int) (last - first + 1)];
+		int change = findChange(first);
+		for (long bucket = first; bucket <= last; ++bucket) {
+			while (change + 1 < changes.length
+					&& changes[change + 1] <= bucket)
+				++change;
+			result[(int) (bucket - first)] = (change < 0) ? 0
+					: counts[series][change];
+		}
+
+		return result;
+	}
+
+	/**
+	 * Get the maximum count of a series between the start and end times. The
+	 * range is limited to the timeline.
+	 * 
+	 * @param series
+	 *            the series (e.g., {@link #MAPS})
+	 * @param start
+	 *            the start time
+	 * @param end
+	 *            the end time
+	 * @return the maximum count of the series
+	 */
+	public int getMaxCount(int series, Date start, Date end) {
+		long first = Math.max(0l, getBucket(start));
+		long last = Math.min(numBuckets - 1, getBucket(end));
+		if (last < first)
+			return 0;
+
+		// The maximum is either at the first bucket or at a change
+		ensurePrefixSums();
+		int change = findChange(first);
+		int max = (change < 0) ? 0 : counts[series][change];
+		for (++change; change < changes.length; ++change) {
+			if (changes[change] > last)
+				break;
+			max = Math.max(max, counts[series][change]);
+		}
+
+		return max;
+	}
+
 	/**
 	 * Print out the timeline as tabular data of the form
-	 * "Time\tMaps\tShuffle\tMerge\tReduce\tWaste"
+	 * "Time\tMaps\tShuffle\tMerge\tReduce\tWaste\tRackLocalMaps\tNonLocalMaps"
+	 * 
+	 * The time is the offset of each time bucket from the start of the
+	 * timeline in seconds.
 	 * 
 	 * @param ps
 	 *            the print stream to write to
@@ -141,23 +293,131 @@ public class TimelineCalc {
 	public void printTimeline(PrintStream ps) {
 
 		// Print out the timeline
+		ensurePrefixSums();
 		StringBuffer sb = new StringBuffer();
-		ps.println("Time\tMaps\tShuffle\tMerge\tReduce\tWaste");
-		for (int t = 0; t < grandDuration; ++t) {
-			sb.append(t);
-			sb.append("\t");
-			sb.append(mappers[t]);
-			sb.append("\t");
-			sb.append(shuffling[t]);
-			sb.append("\t");
-			sb.append(sorting[t]);
-			sb.append("\t");
-			sb.append(reducing[t]);
-			sb.append("\t");
-			sb.append(waste[t]);
+		ps.println("Time\tMaps\tShuffle\tMerge\tReduce\tWaste"
+				+ "\tRackLocalMaps\tNonLocalMaps");
+		int change = -1;
+		for (long t = 0; t < numBuckets; ++t) {
+			while (change + 1 < changes.length && changes[change + 1] <= t)
+				++change;
+
+			if (resolution % 1000 == 0)
+				sb.append(t * (resolution / 1000));
+			else
+				sb.append(t * resolution / 1000d);
+			for (int s = 0; s < NUM_SERIES; ++s) {
+				sb.append("\t");
+				sb.append((change < 0) ? 0 : counts[s][change]);
+			}
 
 			ps.println(sb.toString());
 			sb.delete(0, sb.length());
 		}
 	}
+
+	/* ***************************************************************
+	 * PRIVATE METHODS
+	 * ***************************************************************
+	 */
+
+	/**
+	 * @param date
+	 *            a date
+	 * @return the time bucket of the date, relative to the timeline start
+	 */
+	private long getBucket(Date date) {
+		return date.getTime() / resolution - startBucket;
+	}
+
+	/**
+	 * Add an interval of time buckets [start, end) to a series. The interval
+	 * is limited to the timeline.
+	 * 
+	 * @param series
+	 *            the series
+	 * @param start
+	 *            the first bucket
+	 * @param end
+	 *            the bucket after the last one
+	 */
+	private void addInterval(int series, long start, long end) {
+		start = Math.max(0l, start);
+		end = Math.min(numBuckets, end);
+		if (start >= end)
+			return;
+
+		if (numEvents + 2 > events.length)
+			events = Arrays.copyOf(events, 2 * events.length);
+
+		// Each event encodes its bucket, its series, and its sign
+		events[numEvents++] = (start << CODE_BITS) | (series << 1);
+		events[numEvents++] = (end << CODE_BITS) | (series << 1) | 1;
+
+		// The prefix sums must be recomputed
+		changes = null;
+		counts = null;
+	}
+
+	/**
+	 * Sort the events and compute the counts of each series at the buckets
+	 * where some count changes, if not done already
+	 */
+	private void ensurePrefixSums() {
+		if (changes != null)
+			return;
+
+		long[] sorted = Arrays.copyOf(events, numEvents);
+		Arrays.sort(sorted);
+
+		// Count the buckets with events
+		int numChanges = 0;
+		for (int i = 0; i < numEvents; ++i) {
+			long bucket = sorted[i] >>> CODE_BITS;
+			if (i == 0 || bucket != (sorted[i - 1] >>> CODE_BITS))
+				++numChanges;
+		}
+
+		// Prefix-sum the events
+		changes = new long[numChanges];
+		counts = new int[NUM_SERIES][numChanges];
+		int[] current = new int[NUM_SERIES];
+		int change = -1;
+		for (int i = 0; i < numEvents; ++i) {
+			long bucket = sorted[i] >>> CODE_BITS;
+			if (change < 0 || bucket != changes[change]) {
+				if (change >= 0)
+					for (int s = 0; s < NUM_SERIES; ++s)
+						counts[s][change] = current[s];
+				++change;
+				changes[change] = bucket;
+			}
+
+			int code = (int) (sorted[i] & CODE_MASK);
+			current[code >> 1] += ((code & 1) == 0) ? 1 : -1;
+		}
+
+		if (change >= 0)
+			for (int s = 0; s < NUM_SERIES; ++s)
+				counts[s][change] = current[s];
+	}
+
+	/**
+	 * @param bucket
+	 *            a time bucket
+	 * @return the index of the last change at or before the bucket, or -1 if
+	 *         there is none
+	 */
+	private int findChange(long bucket) {
+		int low = 0;
+		int high = changes.length;
+		while (low < high) {
+			int mid = (low + high) >>> 1;
+			if (changes[mid] <= bucket)
+				low = mid + 1;
+			else
+				high = mid;
+		}
+		return low - 1;
+	}
 }
@@ -7,20 +7,9 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.PrintStream;
 
-import javax.xml.parsers.DocumentBuilderFactory;
-import javax.xml.parsers.ParserConfigurationException;
-import javax.xml.transform.OutputKeys;
-import javax.xml.transform.Transformer;
-import javax.xml.transform.TransformerConfigurationException;
-import javax.xml.transform.TransformerException;
-import javax.xml.transform.TransformerFactory;
-import javax.xml.transform.dom.DOMSource;
-import javax.xml.transform.stream.StreamResult;
-
-import org.w3c.dom.Document;
-import org.w3c.dom.Element;
-import org.w3c.dom.NodeList;
-import org.xml.sax.SAXException;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.stream.XMLStreamWriter;
 
 import edu.duke.starfish.profile.profileinfo.ClusterConfiguration;
 import edu.duke.starfish.profile.profileinfo.setup.HostInfo;
@@ -34,6 +23,9 @@ import edu.duke.starfish.profile.profileinfo.setup.TaskTrackerInfo;
  * An XML parser for creating and reading cluster XML files. A cluster XML file
  * contains the structure (racks, hosts, trackers) of a virtual cluster.
  * 
+ * The clusters are read and written with the streaming API for XML, one
+ * element at a time (see {@link XMLStreamUtils}).
+ * 
  * @author hero
  */
 public class XMLClusterParser {
@@ -65,6 +57,8 @@ public class XMLClusterParser {
 	private static final String MAP_SLOTS_PER_HOST = "map_slots_per_host";
 	private static final String RED_SLOTS_PER_HOST = "reduce_slots_per_host";
 
+	private static final String NL = XMLStreamUtils.NEW_LINE;
+
 	/* ***************************************************************
 	 * PUBLID METHODS
 	 * ***************************************************************
@@ -78,11 +72,19 @@ public class XMLClusterParser {
 	 * @return the cluster
 	 */
 	public static ClusterConfiguration importCluster(File inputFile) {
+		FileInputStream in = null;
 		try {
-			return importCluster(new FileInputStream(inputFile));
+			in = new FileInputStream(inputFile);
+			return importCluster(in);
 		} catch (FileNotFoundException e) {
 			e.printStackTrace();
 			return null;
+		} finally {
+			try {
+				if (in != null)
+					in.close();
+			} catch (IOException e) {
+			}
 		}
 	}
 
@@ -95,57 +97,45 @@ public class XMLClusterParser {
 	 */
 	public static ClusterConfiguration importCluster(InputStream in) {
 
-		// Parse the input stream
-		DocumentBuilderFactory dbf = DocumentBuilderFactory.newInstance();
-		dbf.setIgnoringComments(true);
-		Document doc = null;
+		XMLStreamReader reader = null;
 		try {
-			doc = dbf.newDocumentBuilder().parse(in);
-		} catch (ParserConfigurationException e) {
-			e.printStackTrace();
-			return null;
-		} catch (SAXException e) {
-			e.printStackTrace();
-			return null;
-		} catch (IOException e) {
-			e.printStackTrace();
-			return null;
-		}
-
-		// Get the root element
-		Element root = doc.getDocumentElement();
-		if (!CLUSTER.equals(root.getTagName()))
-			throw new RuntimeException(
-					"ERROR: Bad XML File: top-level element not <cluster>");
-
-		// Load the cluster configuration
-		ClusterConfiguration cluster = null;
-		String name = root.getAttribute(NAME);
-
-		NodeList specs = root.getElementsByTagName(SPECS);
-		if (specs.getLength() != 0) {
-			// Create the cluster based on the specs
-			cluster = loadClusterFromSpecs(name, (Element) specs.item(0));
-
-		} else {
-			// Load the racks
-			cluster = new ClusterConfiguration();
+			// Get the root element
+			reader = XMLStreamUtils.createReader(in);
+			reader.nextTag();
+			if (!CLUSTER.equals(reader.getLocalName()))
+				throw new RuntimeException(
+						"ERROR: Bad XML File: top-level element not <cluster>");
+
+			// Load the cluster configuration
+			String name = XMLStreamUtils.getAttribute(reader, NAME);
+			ClusterConfiguration cluster = new ClusterConfiguration();
 			cluster.setClusterName(name);
-			NodeList racks = root.getElementsByTagName(RACK);
-			for (int i = 0; i < racks.getLength(); ++i) {
-				if (racks.item(i) instanceof Element) {
-					Element rack = (Element) racks.item(i);
-					loadRack(cluster, rack);
+
+			while (XMLStreamUtils.nextChildElement(reader)) {
+				String elem = reader.getLocalName();
+				if (SPECS.equals(elem)) {
+					// Create the cluster based on the specs
+					return loadClusterFromSpecs(name, reader);
+				} else if (RACK.equals(elem)) {
+					// Load the racks
+					loadRack(cluster, reader);
+				} else {
+					XMLStreamUtils.skipElement(reader);
 				}
 			}
-		}
 
-		return cluster;
+			return cluster;
+
+		} catch (XMLStreamException e) {
+			e.printStackTrace();
+			return null;
+		} finally {
+			XMLStreamUtils.closeQuietly(reader);
+		}
 	}
 
 	/**
-	 * Create an XML DOM representing the cluster and write out to the provided
-	 * output file
+	 * Write the XML representation of the cluster to the provided output file
 	 * 
 	 * @param cluster
 	 *            the cluster
@@ -153,16 +143,21 @@ public class XMLClusterParser {
 	 *            the output file
 	 */
 	public static void exportCluster(ClusterConfiguration cluster, File outFile) {
+		PrintStream out = null;
 		try {
-			exportCluster(cluster, new PrintStream(outFile));
+			out = new PrintStream(outFile);
+			exportCluster(cluster, out);
 		} catch (FileNotFoundException e) {
 			e.printStackTrace();
+		} finally {
+			if (out != null)
+				out.close();
 		}
 	}
 
 	/**
-	 * Create an XML DOM representing the cluster and write out to the provided
-	 * output stream
+	 * Write the XML representation of the cluster to the provided output
+	 * stream. The output stream is flushed but not closed.
 	 * 
 	 * @param cluster
 	 *            the cluster
@@ -172,43 +167,30 @@ public class XMLClusterParser {
 	public static void exportCluster(ClusterConfiguration cluster,
 			PrintStream out) {
 
-		Document doc = null;
 		try {
-			// Workaround to get the right FactoryBuilder
-			System.setProperty("javax.xml.parsers.DocumentBuilderFactory",
-					"com.sun.org.apache.xerces."
-							+ "internal.jaxp.DocumentBuilderFactoryImpl");
-			doc = DocumentBuilderFactory.newInstance().newDocumentBuilder()
-					.newDocument();
-		} catch (ParserConfigurationException e) {
-			e.printStackTrace();
-		}
-
-		// Create the cluster element
-		Element clusterElem = doc.createElement(CLUSTER);
-		doc.appendChild(clusterElem);
+			XMLStreamWriter writer = XMLStreamUtils.createWriter(out, false);
+
+			// Create the cluster element, with the cluster name if any
+			if (cluster.getAllRackInfos().isEmpty())
+				writer.writeEmptyElement(CLUSTER);
+			else
+				writer.writeStartElement(CLUSTER);
+			if (cluster.getClusterName() != null) {
+				writer.writeAttribute(NAME, cluster.getClusterName());
+			}
 
-		// Add the cluster name, if any
-		if (cluster.getClusterName() != null) {
-			clusterElem.setAttribute(NAME, cluster.getClusterName());
-		}
+			// Add the rack elements
+			for (RackInfo rack : cluster.getAllRackInfos()) {
+				writeRack(writer, rack);
+			}
 
-		// Add the rack elements
-		for (RackInfo rack : cluster.getAllRackInfos()) {
-			clusterElem.appendChild(buildRackElement(rack, doc));
-		}
+			if (!cluster.getAllRackInfos().isEmpty()) {
+				writer.writeCharacters(NL);
+				writer.writeEndElement();
+			}
+			XMLStreamUtils.closeWriter(writer);
 
-		// Write out the XML output
-		DOMSource source = new DOMSource(doc);
-		StreamResult result = new StreamResult(out);
-		try {
-			Transformer transformer = TransformerFactory.newInstance()
-					.newTransformer();
-			transformer.setOutputProperty(OutputKeys.INDENT, "yes");
-			transformer.transform(source, result);
-		} catch (TransformerConfigurationException e) {
-			e.printStackTrace();
-		} catch (TransformerException e) {
+		} catch (XMLStreamException e) {
 			e.printStackTrace();
 		}
 	}
@@ -219,134 +201,153 @@ public class XMLClusterParser {
 	 */
 
 	/**
-	 * Builds an XML element with the rack information
+	 * Write the XML element with the rack information
 	 * 
+	 * @param writer
+	 *            the XML stream writer
 	 * @param rack
 	 *            the rack
-	 * @param doc
-	 *            the XML document
-	 * @return the rack XML element
+	 * @throws XMLStreamException
 	 */
-	private static Element buildRackElement(RackInfo rack, Document doc) {
+	private static void writeRack(XMLStreamWriter writer, RackInfo rack)
+			throws XMLStreamException {
 
-		// Add the task attributes
-		Element rackElem = doc.createElement(RACK);
-		rackElem.setAttribute(NAME, rack.getName());
+		// Add the rack attributes
+		MasterHostInfo masterHost = (MasterHostInfo) rack.getMasterHost();
+		boolean empty = masterHost == null && rack.getSlaveHosts().isEmpty();
+		writer.writeCharacters(NL);
+		if (empty)
+			writer.writeEmptyElement(RACK);
+		else
+			writer.writeStartElement(RACK);
+		writer.writeAttribute(NAME, rack.getName());
+		if (empty)
+			return;
 
 		// Add the master host
-		MasterHostInfo masterHost = (MasterHostInfo) rack.getMasterHost();
 		if (masterHost != null) {
-			rackElem.appendChild(buildMasterHostElement(masterHost, doc));
+			writeMasterHost(writer, masterHost);
 		}
 
 		// Add the slave hosts
 		for (HostInfo host : rack.getSlaveHosts()) {
-			rackElem.appendChild(buildSlaveHostElement((SlaveHostInfo) host,
-					doc));
+			writeSlaveHost(writer, (SlaveHostInfo) host);
 		}
 
-		return rackElem;
+		writer.writeCharacters(NL);
+		writer.writeEndElement();
 	}
 
 	/**
-	 * Builds an XML element with the master host information
+	 * Write the XML element with the master host information
 	 * 
+	 * @param writer
+	 *            the XML stream writer
 	 * @param host
 	 *            the master host
-	 * @param doc
-	 *            the XML document
-	 * @return the host XML element
+	 * @throws XMLStreamException
 	 */
-	private static Element buildMasterHostElement(MasterHostInfo host,
-			Document doc) {
+	private static void writeMasterHost(XMLStreamWriter writer,
+			MasterHostInfo host) throws XMLStreamException {
 
-		// Add the task attributes
-		Element hostElem = doc.createElement(MASTER_HOST);
-		hostElem.setAttribute(NAME, host.getName());
+		// Add the host attributes, in the order of the attribute names
+		JobTrackerInfo jobTracker = host.getJobTracker();
+		writer.writeCharacters(NL);
+		if (jobTracker == null)
+			writer.writeEmptyElement(MASTER_HOST);
+		else
+			writer.writeStartElement(MASTER_HOST);
 		if (host.getIpAddress() != null)
-			hostElem.setAttribute(IP_ADDRESS, host.getIpAddress());
+			writer.writeAttribute(IP_ADDRESS, host.getIpAddress());
+		writer.writeAttribute(NAME, host.getName());
 
 		// Add the job tracker
-		JobTrackerInfo jobTracker = host.getJobTracker();
 		if (jobTracker != null) {
-			Element jobTrackerElem = doc.createElement(JOB_TRACKER);
-			jobTrackerElem.setAttribute(NAME, jobTracker.getName());
-			jobTrackerElem.setAttribute(PORT, Integer.toString(jobTracker
+			writer.writeCharacters(NL);
+			writer.writeEmptyElement(JOB_TRACKER);
+			writer.writeAttribute(NAME, jobTracker.getName());
+			writer.writeAttribute(PORT, Integer.toString(jobTracker
 					.getPort()));
-			hostElem.appendChild(jobTrackerElem);
-		}
 
-		return hostElem;
+			writer.writeCharacters(NL);
+			writer.writeEndElement();
+		}
 	}
 
 	/**
-	 * Builds an XML element with the slave host information
+	 * Write the XML element with the slave host information
 	 * 
+	 * @param writer
+	 *            the XML stream writer
 	 * @param host
 	 *            the slave host
-	 * @param doc
-	 *            the XML document
-	 * @return the host XML element
+	 * @throws XMLStreamException
 	 */
-	private static Element buildSlaveHostElement(SlaveHostInfo host,
-			Document doc) {
+	private static void writeSlaveHost(XMLStreamWriter writer,
+			SlaveHostInfo host) throws XMLStreamException {
 
-		// Add the task attributes
-		Element hostElem = doc.createElement(SLAVE_HOST);
-		hostElem.setAttribute(NAME, host.getName());
+		// Add the host attributes, in the order of the attribute names
+		TaskTrackerInfo taskTracker = host.getTaskTracker();
+		writer.writeCharacters(NL);
+		if (taskTracker == null)
+			writer.writeEmptyElement(SLAVE_HOST);
+		else
+			writer.writeStartElement(SLAVE_HOST);
 		if (host.getIpAddress() != null)
-			hostElem.setAttribute(IP_ADDRESS, host.getIpAddress());
+			writer.writeAttribute(IP_ADDRESS, host.getIpAddress());
+		writer.writeAttribute(NAME, host.getName());
 
 		// Add the task tracker
-		TaskTrackerInfo taskTracker = host.getTaskTracker();
 		if (taskTracker != null) {
-			Element taskTrackerElem = doc.createElement(TASK_TRACKER);
-
-			taskTrackerElem.setAttribute(NAME, taskTracker.getName());
-			taskTrackerElem.setAttribute(PORT, Integer.toString(taskTracker
+			writer.writeCharacters(NL);
+			writer.writeEmptyElement(TASK_TRACKER);
+			writer.writeAttribute(MAP_SLOTS, Integer.toString(taskTracker
+					.getNumMapSlots()));
+			writer.writeAttribute(MAX_SLOT_MEMORY, Long.toString(taskTracker
+					.getMaxTaskMemory() >> 20));
+			writer.writeAttribute(NAME, taskTracker.getName());
+			writer.writeAttribute(PORT, Integer.toString(taskTracker
 					.getPort()));
-			taskTrackerElem.setAttribute(MAP_SLOTS, Integer
-					.toString(taskTracker.getNumMapSlots()));
-			taskTrackerElem.setAttribute(RED_SLOTS, Integer
-					.toString(taskTracker.getNumReduceSlots()));
-			taskTrackerElem.setAttribute(MAX_SLOT_MEMORY, Long
-					.toString(taskTracker.getMaxTaskMemory() >> 20));
-
-			hostElem.appendChild(taskTrackerElem);
-		}
+			writer.writeAttribute(RED_SLOTS, Integer.toString(taskTracker
+					.getNumReduceSlots()));
 
-		return hostElem;
+			writer.writeCharacters(NL);
+			writer.writeEndElement();
+		}
 	}
 
 	/**
-	 * Load the cluster specifications from the XML element and create a new
-	 * ClusterConfiguration.
+	 * Load the cluster specifications from the current XML element and create
+	 * a new ClusterConfiguration.
 	 * 
 	 * @param clusterName
 	 *            the cluster name
-	 * @param specsElem
-	 *            the specs XML element
+	 * @param reader
+	 *            the XML stream reader, positioned at the specs element
 	 * @return the cluster configuration
+	 * @throws XMLStreamException
 	 */
 	private static ClusterConfiguration loadClusterFromSpecs(
-			String clusterName, Element specsElem) {
+			String clusterName, XMLStreamReader reader)
+			throws XMLStreamException {
 
 		// Number of racks is optional
 		int numRacks = 1;
-		String numRacksStr = specsElem.getAttribute(NUM_RACKS);
-		if (numRacksStr != null && !numRacksStr.equals("")) {
+		String numRacksStr = XMLStreamUtils.getAttribute(reader, NUM_RACKS);
+		if (!numRacksStr.equals("")) {
 			numRacks = Integer.parseInt(numRacksStr);
 		}
 
 		// Get and parse the other specs
-		int numHostsPerRack = Integer.parseInt(specsElem
-				.getAttribute(HOSTS_PER_RACK));
-		int numMapSlots = Integer.parseInt(specsElem
-				.getAttribute(MAP_SLOTS_PER_HOST));
-		int numRedSlots = Integer.parseInt(specsElem
-				.getAttribute(RED_SLOTS_PER_HOST));
-		long maxSlotMemory = Long.parseLong(specsElem
-				.getAttribute(MAX_SLOT_MEMORY)) << 20;
+		int numHostsPerRack = Integer.parseInt(XMLStreamUtils.getAttribute(
+				reader, HOSTS_PER_RACK));
+		int numMapSlots = Integer.parseInt(XMLStreamUtils.getAttribute(
+				reader, MAP_SLOTS_PER_HOST));
+		int numRedSlots = Integer.parseInt(XMLStreamUtils.getAttribute(
+				reader, RED_SLOTS_PER_HOST));
+		long maxSlotMemory = Long.parseLong(XMLStreamUtils.getAttribute(
+				reader, MAX_SLOT_MEMORY)) << 20;
+		XMLStreamUtils.skipElement(reader);
 
 		// Create and return the cluster
 		return ClusterConfiguration.createClusterConfiguration(clusterName,
@@ -355,35 +356,30 @@ public class XMLClusterParser {
 	}
 
 	/**
-	 * Load the rack info from the XML element to the cluster
+	 * Load the rack info from the current XML element to the cluster
 	 * 
 	 * @param cluster
 	 *            the cluster
-	 * @param rack
-	 *            the rack XML element
+	 * @param reader
+	 *            the XML stream reader, positioned at the rack element
+	 * @throws XMLStreamException
 	 */
-	private static void loadRack(ClusterConfiguration cluster, Element rack) {
+	private static void loadRack(ClusterConfiguration cluster,
+			XMLStreamReader reader) throws XMLStreamException {
 
 		// Get the rack attributes
 		RackInfo rackInfo = new RackInfo();
-		rackInfo.setName(rack.getAttribute(NAME));
-
-		// Get the master host information
-		NodeList master_hosts = rack.getElementsByTagName(MASTER_HOST);
-		for (int i = 0; i < master_hosts.getLength(); ++i) {
-			if (master_hosts.item(i) instanceof Element) {
-				Element host = (Element) master_hosts.item(i);
-				loadMasterHost(rackInfo, host);
-			}
-		}
-
-		// Get the slave host information
-		NodeList slave_hosts = rack.getElementsByTagName(SLAVE_HOST);
-		for (int i = 0; i < slave_hosts.getLength(); ++i) {
-			if (slave_hosts.item(i) instanceof Element) {
-				Element host = (Element) slave_hosts.item(i);
-				loadSlaveHost(rackInfo, host);
-			}
+		rackInfo.setName(XMLStreamUtils.getAttribute(reader, NAME));
+
+		// Get the master and slave host information
+		while (XMLStreamUtils.nextChildElement(reader)) {
+			String elem = reader.getLocalName();
+			if (MASTER_HOST.equals(elem))
+				loadMasterHost(rackInfo, reader);
+			else if (SLAVE_HOST.equals(elem))
+				loadSlaveHost(rackInfo, reader);
+			else
+				XMLStreamUtils.skipElement(reader);
 		}
 
 		// Load the racks in the cluster
@@ -391,29 +387,29 @@ public class XMLClusterParser {
 	}
 
 	/**
-	 * Load the master host info from the XML element into the rack
+	 * Load the master host info from the current XML element into the rack
 	 * 
 	 * @param rack
 	 *            the rack
-	 * @param host
-	 *            the host XML element
+	 * @param reader
+	 *            the XML stream reader, positioned at the host element
+	 * @throws XMLStreamException
 	 */
-	private static void loadMasterHost(RackInfo rack, Element host) {
+	private static void loadMasterHost(RackInfo rack, XMLStreamReader reader)
+			throws XMLStreamException {
 
 		// Get the master host attributes
 		MasterHostInfo hostInfo = new MasterHostInfo();
-		hostInfo.setName(host.getAttribute(NAME));
-		if (host.getAttribute(IP_ADDRESS) != null
-				&& !host.getAttribute(IP_ADDRESS).equals(""))
-			hostInfo.setIpAddress(host.getAttribute(IP_ADDRESS));
+		hostInfo.setName(XMLStreamUtils.getAttribute(reader, NAME));
+		String ipAddress = XMLStreamUtils.getAttribute(reader, IP_ADDRESS);
+		if (!ipAddress.equals(""))
+			hostInfo.setIpAddress(ipAddress);
 
 		// Get the job tracker information
-		NodeList trackers = host.getElementsByTagName(JOB_TRACKER);
-		for (int i = 0; i < trackers.getLength(); ++i) {
-			if (trackers.item(i) instanceof Element) {
-				Element tracker = (Element) trackers.item(i);
-				loadJobTracker(hostInfo, tracker);
-			}
+		while (XMLStreamUtils.nextChildElement(reader)) {
+			if (JOB_TRACKER.equals(reader.getLocalName()))
+				loadJobTracker(hostInfo, reader);
+			XMLStreamUtils.skipElement(reader);
 		}
 
 		// Add the host to the rack
@@ -421,29 +417,29 @@ public class XMLClusterParser {
 	}
 
 	/**
-	 * Load the slave host info from the XML element into the rack
+	 * Load the slave host info from the current XML element into the rack
 	 * 
 	 * @param rack
 	 *            the rack
-	 * @param host
-	 *            the host XML element
+	 * @param reader
+	 *            the XML stream reader, positioned at the host element
+	 * @throws XMLStreamException
 	 */
-	private static void loadSlaveHost(RackInfo rack, Element host) {
+	private static void loadSlaveHost(RackInfo rack, XMLStreamReader reader)
+			throws XMLStreamException {
 
 		// Get the slave host attributes
 		SlaveHostInfo hostInfo = new SlaveHostInfo();
-		hostInfo.setName(host.getAttribute(NAME));
-		if (host.getAttribute(IP_ADDRESS) != null
-				&& !host.getAttribute(IP_ADDRESS).equals(""))
-			hostInfo.setIpAddress(host.getAttribute(IP_ADDRESS));
+		hostInfo.setName(XMLStreamUtils.getAttribute(reader, NAME));
+		String ipAddress = XMLStreamUtils.getAttribute(reader, IP_ADDRESS);
+		if (!ipAddress.equals(""))
+			hostInfo.setIpAddress(ipAddress);
 
 		// Get the task tracker information
-		NodeList trackers = host.getElementsByTagName(TASK_TRACKER);
-		for (int i = 0; i < trackers.getLength(); ++i) {
-			if (trackers.item(i) instanceof Element) {
-				Element tracker = (Element) trackers.item(i);
-				loadTaskTracker(hostInfo, tracker);
-			}
+		while (XMLStreamUtils.nextChildElement(reader)) {
+			if (TASK_TRACKER.equals(reader.getLocalName()))
+				loadTaskTracker(hostInfo, reader);
+			XMLStreamUtils.skipElement(reader);
 		}
 
 		// Add the host to the rack
@@ -451,53 +447,55 @@ public class XMLClusterParser {
 	}
 
 	/**
-	 * Load the job tracker info from the XML element into the host
+	 * Load the job tracker info from the current XML element into the host
 	 * 
 	 * @param host
 	 *            the master host
-	 * @param jobTracker
-	 *            the job tracker XML element
+	 * @param reader
+	 *            the XML stream reader, positioned at the job tracker element
 	 */
-	private static void loadJobTracker(MasterHostInfo host, Element jobTracker) {
+	private static void loadJobTracker(MasterHostInfo host,
+			XMLStreamReader reader) {
 
 		// Get the job tracker attributes
 		JobTrackerInfo jobTrackerInfo = new JobTrackerInfo();
 
-		jobTrackerInfo.setName(jobTracker.getAttribute(NAME));
-		if (jobTracker.getAttribute(PORT) != null
-				&& !jobTracker.getAttribute(PORT).equals(""))
-			jobTrackerInfo.setPort(Integer.parseInt(jobTracker
-					.getAttribute(PORT)));
+		jobTrackerInfo.setName(XMLStreamUtils.getAttribute(reader, NAME));
+		String port = XMLStreamUtils.getAttribute(reader, PORT);
+		if (!port.equals(""))
+			jobTrackerInfo.setPort(Integer.parseInt(port));
 
 		// Add the job tracker to the host
 		host.setJobTracker(jobTrackerInfo);
 	}
 
 	/**
-	 * Load the task tracker info from the XML element into the host
+	 * Load the task tracker info from the current XML element into the host
 	 * 
 	 * @param host
-	 *            the master host
-	 * @param taskTracker
-	 *            the job tracker XML element
+	 *            the slave host
+	 * @param reader
+	 *            the XML stream reader, positioned at the task tracker
+	 *            element
 	 */
-	private static void loadTaskTracker(SlaveHostInfo host, Element taskTracker) {
+	private static void loadTaskTracker(SlaveHostInfo host,
+			XMLStreamReader reader) {
 
 		// Get the task tracker attributes
 		TaskTrackerInfo taskTrackerInfo = new TaskTrackerInfo();
-		taskTrackerInfo.setName(taskTracker.getAttribute(NAME));
+		taskTrackerInfo.setName(XMLStreamUtils.getAttribute(reader, NAME));
 
-		String port = taskTracker.getAttribute(PORT);
-		if (port != null && !port.equals(""))
+		String port = XMLStreamUtils.getAttribute(reader, PORT);
+		if (!port.equals(""))
 			taskTrackerInfo.setPort(Integer.parseInt(port));
 
-		taskTrackerInfo.setNumMapSlots(Integer.parseInt(taskTracker
-				.getAttribute(MAP_SLOTS)));
-		taskTrackerInfo.setNumReduceSlots(Integer.parseInt(taskTracker
-				.getAttribute(RED_SLOTS)));
+		taskTrackerInfo.setNumMapSlots(Integer.parseInt(XMLStreamUtils
+				.getAttribute(reader, MAP_SLOTS)));
+		taskTrackerInfo.setNumReduceSlots(Integer.parseInt(XMLStreamUtils
+				.getAttribute(reader, RED_SLOTS)));
 
-		String maxMem = taskTracker.getAttribute(MAX_SLOT_MEMORY);
-		if (maxMem != null && !maxMem.equals(""))
+		String maxMem = XMLStreamUtils.getAttribute(reader, MAX_SLOT_MEMORY);
+		if (!maxMem.equals(""))
 			taskTrackerInfo.setMaxSlotMemory(Long.parseLong(maxMem) << 20);
 
 		// Add the task tracker to the host
@@ -7,23 +7,13 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.PrintStream;
 import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 
-import javax.xml.parsers.DocumentBuilderFactory;
-import javax.xml.parsers.ParserConfigurationException;
-import javax.xml.transform.OutputKeys;
-import javax.xml.transform.Transformer;
-import javax.xml.transform.TransformerConfigurationException;
-import javax.xml.transform.TransformerException;
-import javax.xml.transform.TransformerFactory;
-import javax.xml.transform.dom.DOMSource;
-import javax.xml.transform.stream.StreamResult;
-
-import org.w3c.dom.Document;
-import org.w3c.dom.Element;
-import org.w3c.dom.NodeList;
-import org.xml.sax.SAXException;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.stream.XMLStreamWriter;
 
 import edu.duke.starfish.profile.profileinfo.execution.profile.MRJobProfile;
 import edu.duke.starfish.profile.profileinfo.execution.profile.MRMapProfile;
@@ -37,6 +27,10 @@ import edu.duke.starfish.profile.profileinfo.execution.profile.enums.MRTaskPhase
 /**
  * An XML parser for creating and reading profile XML files.
  * 
+ * The profiles are read and written with the streaming API for XML, one
+ * element at a time, so that the parser does not build a document tree for
+ * job profiles with many task profiles (see {@link XMLStreamUtils}).
+ * 
  * @author hero
  */
 public class XMLProfileParser {
@@ -71,6 +65,8 @@ public class XMLProfileParser {
 	private static final String KEY = "key";
 	private static final String VALUE = "value";
 
+	private static final String NL = XMLStreamUtils.NEW_LINE;
+
 	/* ***************************************************************
 	 * PUBLID METHODS
 	 * ***************************************************************
@@ -84,11 +80,19 @@ public class XMLProfileParser {
 	 * @return the job profile
 	 */
 	public static MRJobProfile importJobProfile(File inputFile) {
+		FileInputStream in = null;
 		try {
-			return importJobProfile(new FileInputStream(inputFile));
+			in = new FileInputStream(inputFile);
+			return importJobProfile(in);
 		} catch (FileNotFoundException e) {
 			e.printStackTrace();
 			return null;
+		} finally {
+			try {
+				if (in != null)
+					in.close();
+			} catch (IOException e) {
+			}
 		}
 	}
 
@@ -101,95 +105,78 @@ public class XMLProfileParser {
 	 */
 	public static MRJobProfile importJobProfile(InputStream in) {
 
-		// Parse the input stream
-		DocumentBuilderFactory dbf = DocumentBuilderFactory.newInstance();
-		dbf.setIgnoringComments(true);
-		Document doc = null;
+		MRJobProfile jobProfile = null;
+		XMLStreamReader reader = null;
 		try {
-			doc = dbf.newDocumentBuilder().parse(in);
-		} catch (ParserConfigurationException e) {
-			e.printStackTrace();
-			return null;
-		} catch (SAXException e) {
-			e.printStackTrace();
-			return null;
-		} catch (IOException e) {
-			e.printStackTrace();
-			return null;
-		}
-
-		// Get the root element
-		Element root = doc.getDocumentElement();
-		if (!JOB_PROFILE.equals(root.getTagName()))
-			throw new RuntimeException(
-					"ERROR: Bad XML File: top-level element not <job_profile>");
-
-		// Get the profile attributes
-		MRJobProfile jobProfile = new MRJobProfile(root.getAttribute(ID));
-		jobProfile.addCounter(MRCounter.MAP_TASKS, Long.parseLong(root
-				.getAttribute(NUM_MAPPERS)));
-		jobProfile.addCounter(MRCounter.REDUCE_TASKS, Long.parseLong(root
-				.getAttribute(NUM_REDUCERS)));
-
-		String clusterName = root.getAttribute(CLUSTER_NAME);
-		if (clusterName != null && !clusterName.equals("")) {
-			jobProfile.setClusterName(clusterName);
-		}
-
-		// Get the profile inputs
-		NodeList inputs = root.getElementsByTagName(INPUTS).item(0)
-				.getChildNodes();
-		ArrayList<String> inputList = new ArrayList<String>(1);
-		for (int i = 0; i < inputs.getLength(); ++i) {
-			if (inputs.item(i) instanceof Element) {
-				inputList.add(inputs.item(i).getTextContent());
+			// Get the root element
+			reader = XMLStreamUtils.createReader(in);
+			reader.nextTag();
+			if (!JOB_PROFILE.equals(reader.getLocalName()))
+				throw new RuntimeException(
+						"ERROR: Bad XML File: top-level element not <job_profile>");
+
+			// Get the profile attributes
+			jobProfile = new MRJobProfile(XMLStreamUtils.getAttribute(reader,
+					ID));
+			jobProfile.addCounter(MRCounter.MAP_TASKS, Long
+					.parseLong(XMLStreamUtils.getAttribute(reader,
+							NUM_MAPPERS)));
+			jobProfile.addCounter(MRCounter.REDUCE_TASKS, Long
+					.parseLong(XMLStreamUtils.getAttribute(reader,
+							NUM_REDUCERS)));
+
+			String clusterName = XMLStreamUtils.getAttribute(reader,
+					CLUSTER_NAME);
+			if (!clusterName.equals("")) {
+				jobProfile.setClusterName(clusterName);
 			}
-		}
-		jobProfile.setJobInputs(inputList.toArray(new String[0]));
-
-		// Get the map profiles
-		NodeList maps = root.getElementsByTagName(MAP_PROFILE);
-		for (int i = 0; i < maps.getLength(); ++i) {
-			if (maps.item(i) instanceof Element) {
-				Element map = (Element) maps.item(i);
-
-				// Get the map profile attributes
-				MRMapProfile mapProf = new MRMapProfile(map.getAttribute(ID));
-				mapProf.setInputIndex(Integer.parseInt(map
-						.getAttribute(INPUT_INDEX)));
-				mapProf.setNumTasks(Integer.parseInt(map
-						.getAttribute(NUM_TASKS)));
-
-				// Get the enum maps
-				loadTaskProfileCounters(mapProf, map);
-				loadTaskProfileStatistics(mapProf, map);
-				loadTaskProfileCostFactors(mapProf, map);
-				loadTaskProfileTimings(mapProf, map);
-
-				jobProfile.addMapProfile(mapProf);
-			}
-		}
 
-		// Get the reduce profiles
-		NodeList reducers = root.getElementsByTagName(REDUCE_PROFILE);
-		for (int i = 0; i < reducers.getLength(); ++i) {
-			if (reducers.item(i) instanceof Element) {
-				Element reducer = (Element) reducers.item(i);
-
-				// Get the reducer profile attributes
-				MRReduceProfile redProf = new MRReduceProfile(reducer
-						.getAttribute(ID));
-				redProf.setNumTasks(Integer.parseInt(reducer
-						.getAttribute(NUM_TASKS)));
-
-				// Get the enum maps
-				loadTaskProfileCounters(redProf, reducer);
-				loadTaskProfileStatistics(redProf, reducer);
-				loadTaskProfileCostFactors(redProf, reducer);
-				loadTaskProfileTimings(redProf, reducer);
-
-				jobProfile.addReduceProfile(redProf);
+			// Get the profile inputs and the map and reduce profiles
+			List<String> inputList = null;
+			while (XMLStreamUtils.nextChildElement(reader)) {
+				String name = reader.getLocalName();
+				if (INPUTS.equals(name) && inputList == null) {
+					inputList = loadJobInputs(reader);
+
+				} else if (MAP_PROFILE.equals(name)) {
+					// Get the map profile attributes
+					MRMapProfile mapProf = new MRMapProfile(XMLStreamUtils
+							.getAttribute(reader, ID));
+					mapProf.setInputIndex(Integer.parseInt(XMLStreamUtils
+							.getAttribute(reader, INPUT_INDEX)));
+					mapProf.setNumTasks(Integer.parseInt(XMLStreamUtils
+							.getAttribute(reader, NUM_TASKS)));
+
+					// Get the enum maps
+					loadTaskProfile(mapProf, reader);
+					jobProfile.addMapProfile(mapProf);
+
+				} else if (REDUCE_PROFILE.equals(name)) {
+					// Get the reducer profile attributes
+					MRReduceProfile redProf = new MRReduceProfile(
+							XMLStreamUtils.getAttribute(reader, ID));
+					redProf.setNumTasks(Integer.parseInt(XMLStreamUtils
+							.getAttribute(reader, NUM_TASKS)));
+
+					// Get the enum maps
+					loadTaskProfile(redProf, reader);
+					jobProfile.addReduceProfile(redProf);
+
+				} else {
+					XMLStreamUtils.skipElement(reader);
+				}
 			}
+
+			if (inputList == null)
+				inputList = new ArrayList<String>(0);
+			jobProfile.setJobInputs(inputList.toArray(new String[inputList
+					.size()]));
+
+		} catch (XMLStreamException e) {
+			e.printStackTrace();
+			return null;
+		} finally {
+			XMLStreamUtils.closeQuietly(reader);
 		}
 
 		// Update the profile to calculate the average task profiles
@@ -198,8 +185,8 @@ public class XMLProfileParser {
 	}
 
 	/**
-	 * Create an XML DOM representing the job profile and write out to the
-	 * provided output file
+	 * Write the XML representation of the job profile to the provided output
+	 * file
 	 * 
 	 * @param jobProfile
 	 *            the job profile
@@ -207,16 +194,21 @@ public class XMLProfileParser {
 	 *            the output file
 	 */
 	public static void exportJobProfile(MRJobProfile jobProfile, File outFile) {
+		PrintStream out = null;
 		try {
-			exportJobProfile(jobProfile, new PrintStream(outFile));
+			out = new PrintStream(outFile);
+			exportJobProfile(jobProfile, out);
 		} catch (FileNotFoundException e) {
 			e.printStackTrace();
+		} finally {
+			if (out != null)
+				out.close();
 		}
 	}
 
 	/**
-	 * Create an XML DOM representing the job profile and write out to the
-	 * provided output stream
+	 * Write the XML representation of the job profile to the provided output
+	 * stream. The output stream is flushed but not closed.
 	 * 
 	 * @param jobProfile
 	 *            the job profile
@@ -225,69 +217,54 @@ public class XMLProfileParser {
 	 */
 	public static void exportJobProfile(MRJobProfile jobProfile, PrintStream out) {
 
-		Document doc = null;
 		try {
-			// Workaround to get the right FactoryBuilder
-			System.setProperty("javax.xml.parsers.DocumentBuilderFactory",
-					"com.sun.org.apache.xerces."
-							+ "internal.jaxp.DocumentBuilderFactoryImpl");
-			doc = DocumentBuilderFactory.newInstance().newDocumentBuilder()
-					.newDocument();
-			doc.setXmlStandalone(true);
-		} catch (ParserConfigurationException e) {
-			e.printStackTrace();
-		}
+			XMLStreamWriter writer = XMLStreamUtils.createWriter(out, true);
 
-		// Create the job profile element
-		Element job = doc.createElement(JOB_PROFILE);
-		doc.appendChild(job);
-
-		// Add the job properties
-		job.setAttribute(ID, jobProfile.getJobId());
-		job.setAttribute(NUM_MAPPERS, jobProfile.getCounter(
-				MRCounter.MAP_TASKS, 0l).toString());
-		job.setAttribute(NUM_REDUCERS, jobProfile.getCounter(
-				MRCounter.REDUCE_TASKS, 0l).toString());
-		if (jobProfile.getClusterName() != null) {
-			job.setAttribute(CLUSTER_NAME, jobProfile.getClusterName());
-		}
+			// Add the job properties, in the order of the attribute names
+			writer.writeStartElement(JOB_PROFILE);
+			if (jobProfile.getClusterName() != null) {
+				writer.writeAttribute(CLUSTER_NAME, jobProfile
+						.getClusterName());
+			}
+			writer.writeAttribute(ID, jobProfile.getJobId());
+			writer.writeAttribute(NUM_MAPPERS, Long.toString(jobProfile
+					.getCounter(MRCounter.MAP_TASKS, 0l)));
+			writer.writeAttribute(NUM_REDUCERS, Long.toString(jobProfile
+					.getCounter(MRCounter.REDUCE_TASKS, 0l)));
+
+			// Add the job inputs
+			String[] jobInputs = jobProfile.getJobInputs();
+			writer.writeCharacters(NL);
+			if (jobInputs.length == 0) {
+				writer.writeEmptyElement(INPUTS);
+			} else {
+				writer.writeStartElement(INPUTS);
+				for (String jobInput : jobInputs) {
+					writer.writeCharacters(NL);
+					writer.writeStartElement(INPUT);
+					writer.writeCharacters(jobInput);
+					writer.writeEndElement();
+				}
+				writer.writeCharacters(NL);
+				writer.writeEndElement();
+			}
 
-		// Add the job inputs
-		Element inputs = doc.createElement(INPUTS);
-		job.appendChild(inputs);
-		for (String jobInput : jobProfile.getJobInputs()) {
-			Element input = doc.createElement(INPUT);
-			inputs.appendChild(input);
-			input.appendChild(doc.createTextNode(jobInput));
-		}
+			// Add the map elements
+			for (MRMapProfile mapProfile : jobProfile.getAvgMapProfiles()) {
+				writeTaskProfile(writer, mapProfile, MAP_PROFILE);
+			}
 
-		// Add the map elements
-		for (MRMapProfile mapProfile : jobProfile.getAvgMapProfiles()) {
-			Element map = buildTaskProfileElement(mapProfile, doc, MAP_PROFILE);
-			map.setAttribute(INPUT_INDEX, Integer.toString(mapProfile
-					.getInputIndex()));
-			job.appendChild(map);
-		}
+			// Add the reduce element
+			MRReduceProfile redProfile = jobProfile.getAvgReduceProfile();
+			if (!redProfile.isEmpty()) {
+				writeTaskProfile(writer, redProfile, REDUCE_PROFILE);
+			}
 
-		// Add the reduce element
-		MRReduceProfile redProfile = jobProfile.getAvgReduceProfile();
-		if (!redProfile.isEmpty()) {
-			Element reducer = buildTaskProfileElement(redProfile, doc,
-					REDUCE_PROFILE);
-			job.appendChild(reducer);
-		}
+			writer.writeCharacters(NL);
+			writer.writeEndElement();
+			XMLStreamUtils.closeWriter(writer);
 
-		// Write out the XML output
-		DOMSource source = new DOMSource(doc);
-		StreamResult result = new StreamResult(out);
-		try {
-			Transformer transformer = TransformerFactory.newInstance()
-					.newTransformer();
-			transformer.setOutputProperty(OutputKeys.INDENT, "yes");
-			transformer.transform(source, result);
-		} catch (TransformerConfigurationException e) {
-			e.printStackTrace();
-		} catch (TransformerException e) {
+		} catch (XMLStreamException e) {
 			e.printStackTrace();
 		}
 	}
@@ -298,144 +275,136 @@ public class XMLProfileParser {
 	 */
 
 	/**
-	 * Build an XML element with the enum map information
+	 * Write the XML element of an enum map. An empty map is written as an
+	 * empty element.
 	 * 
+	 * @param writer
+	 *            the XML stream writer
 	 * @param map
 	 *            the map of enum to number
-	 * @param doc
-	 *            the XML document
 	 * @param parentName
 	 *            the name of the parent element e.g., counters
 	 * @param childName
 	 *            the name of the child elements e.g., counter
-	 * @return the XML element
+	 * @throws XMLStreamException
 	 */
-	private static Element buildEnumMapElement(Map<? extends Enum<?>, ?> map,
-			Document doc, String parentName, String childName) {
+	private static void writeEnumMap(XMLStreamWriter writer,
+			Map<? extends Enum<?>, ?> map, String parentName, String childName)
+			throws XMLStreamException {
+
+		writer.writeCharacters(NL);
+		if (map.isEmpty()) {
+			writer.writeEmptyElement(parentName);
+			return;
+		}
 
-		Element counters = doc.createElement(parentName);
+		writer.writeStartElement(parentName);
 		for (Entry<? extends Enum<?>, ?> e : map.entrySet()) {
-			Element counter = doc.createElement(childName);
-			counters.appendChild(counter);
-
-			counter.setAttribute(KEY, e.getKey().name());
-			counter.setAttribute(VALUE, e.getValue().toString());
+			writer.writeCharacters(NL);
+			writer.writeEmptyElement(childName);
+			writer.writeAttribute(KEY, e.getKey().name());
+			writer.writeAttribute(VALUE, e.getValue().toString());
 		}
-
-		return counters;
+		writer.writeCharacters(NL);
+		writer.writeEndElement();
 	}
 
 	/**
-	 * Build an XML element with the task profile information
+	 * Write the XML element of a task profile
 	 * 
+	 * @param writer
+	 *            the XML stream writer
 	 * @param taskProfile
 	 *            the task profile
-	 * @param doc
-	 *            the XML document
 	 * @param name
 	 *            the name of the element
-	 * @return the XML element
+	 * @throws XMLStreamException
 	 */
-	private static Element buildTaskProfileElement(MRTaskProfile taskProfile,
-			Document doc, String name) {
-
-		// Add the task attributes
-		Element task = doc.createElement(name);
-		task.setAttribute(ID, taskProfile.getTaskId());
-		task.setAttribute(NUM_TASKS, Integer
-				.toString(taskProfile.getNumTasks()));
-
-		// Add the map enum maps
-		task.appendChild(buildEnumMapElement(taskProfile.getCounters(), doc,
-				COUNTERS, COUNTER));
-		task.appendChild(buildEnumMapElement(taskProfile.getStatistics(), doc,
-				STATS, STAT));
-		task.appendChild(buildEnumMapElement(taskProfile.getCostFactors(), doc,
-				FACTORS, FACTOR));
-		task.appendChild(buildEnumMapElement(taskProfile.getTimings(), doc,
-				TIMINGS, TIMING));
-
-		return task;
-	}
-
-	/**
-	 * Load the task profile counters from the XML element to the profile
-	 * 
-	 * @param taskProf
-	 *            the task profile
-	 * @param task
-	 *            the task XML element
-	 */
-	private static void loadTaskProfileCounters(MRTaskProfile taskProf,
-			Element task) {
-		Element counters = (Element) task.getElementsByTagName(COUNTERS)
-				.item(0);
-		NodeList counterList = counters.getElementsByTagName(COUNTER);
-		for (int j = 0; j < counterList.getLength(); ++j) {
-			Element counter = (Element) counterList.item(j);
-			taskProf.addCounter(MRCounter.valueOf(counter.getAttribute(KEY)),
-					Long.parseLong(counter.getAttribute(VALUE)));
+	private static void writeTaskProfile(XMLStreamWriter writer,
+			MRTaskProfile taskProfile, String name) throws XMLStreamException {
+
+		// Add the task attributes, in the order of the attribute names
+		writer.writeCharacters(NL);
+		writer.writeStartElement(name);
+		writer.writeAttribute(ID, taskProfile.getTaskId());
+		if (taskProfile instanceof MRMapProfile) {
+			writer.writeAttribute(INPUT_INDEX, Integer
+					.toString(((MRMapProfile) taskProfile).getInputIndex()));
 		}
-	}
+		writer.writeAttribute(NUM_TASKS, Integer.toString(taskProfile
+				.getNumTasks()));
 
-	/**
-	 * Load the task profile statistics from the XML element to the profile
-	 * 
-	 * @param taskProf
-	 *            the task profile
-	 * @param task
-	 *            the task XML element
-	 */
-	private static void loadTaskProfileStatistics(MRTaskProfile taskProf,
-			Element task) {
-		Element stats = (Element) task.getElementsByTagName(STATS).item(0);
-		NodeList statList = stats.getElementsByTagName(STAT);
-		for (int j = 0; j < statList.getLength(); ++j) {
-			Element stat = (Element) statList.item(j);
-			taskProf.addStatistic(MRStatistics.valueOf(stat.getAttribute(KEY)),
-					Double.parseDouble(stat.getAttribute(VALUE)));
-		}
+		// Add the task enum maps
+		writeEnumMap(writer, taskProfile.getCounters(), COUNTERS, COUNTER);
+		writeEnumMap(writer, taskProfile.getStatistics(), STATS, STAT);
+		writeEnumMap(writer, taskProfile.getCostFactors(), FACTORS, FACTOR);
+		writeEnumMap(writer, taskProfile.getTimings(), TIMINGS, TIMING);
+
+		writer.writeCharacters(NL);
+		writer.writeEndElement();
 	}
 
 	/**
-	 * Load the task profile cost factor from the XML element to the profile
+	 * Load the job inputs, i.e., the text of the child elements of the
+	 * current inputs element
 	 * 
-	 * @param taskProf
-	 *            the task profile
-	 * @param task
-	 *            the task XML element
+	 * @param reader
+	 *            the XML stream reader, positioned at the inputs element
+	 * @return the job inputs
+	 * @throws XMLStreamException
 	 */
-	private static void loadTaskProfileCostFactors(MRTaskProfile taskProf,
-			Element task) {
-		Element factors = (Element) task.getElementsByTagName(FACTORS).item(0);
-		NodeList factorList = factors.getElementsByTagName(FACTOR);
-		for (int j = 0; j < factorList.getLength(); ++j) {
-			Element factor = (Element) factorList.item(j);
-			taskProf.addCostFactor(MRCostFactors.valueOf(factor
-					.getAttribute(KEY)), Double.parseDouble(factor
-					.getAttribute(VALUE)));
+	private static List<String> loadJobInputs(XMLStreamReader reader)
+			throws XMLStreamException {
+		List<String> inputList = new ArrayList<String>(1);
+		while (XMLStreamUtils.nextChildElement(reader)) {
+			inputList.add(reader.getElementText());
 		}
 
+		return inputList;
 	}
 
 	/**
-	 * Load the task profile timings from the XML element to the profile
+	 * Load the counters, statistics, cost factors, and timings of the current
+	 * task profile element into the profile
 	 * 
 	 * @param taskProf
 	 *            the task profile
-	 * @param task
-	 *            the task XML element
+	 * @param reader
+	 *            the XML stream reader, positioned at the task profile
+	 *            element
+	 * @throws XMLStreamException
 	 */
-	private static void loadTaskProfileTimings(MRTaskProfile taskProf,
-			Element task) {
-		Element timings = (Element) task.getElementsByTagName(TIMINGS).item(0);
-		NodeList timingList = timings.getElementsByTagName(TIMING);
-		for (int j = 0; j < timingList.getLength(); ++j) {
-			Element timing = (Element) timingList.item(j);
-			taskProf.addTiming(MRTaskPhase.valueOf(timing.getAttribute(KEY)),
-					Double.parseDouble(timing.getAttribute(VALUE)));
+	private static void loadTaskProfile(MRTaskProfile taskProf,
+			XMLStreamReader reader) throws XMLStreamException {
+
+		while (XMLStreamUtils.nextChildElement(reader)) {
+			String enumMap = reader.getLocalName();
+			while (XMLStreamUtils.nextChildElement(reader)) {
+				String name = reader.getLocalName();
+				if (COUNTERS.equals(enumMap) && COUNTER.equals(name)) {
+					taskProf.addCounter(MRCounter.valueOf(XMLStreamUtils
+							.getAttribute(reader, KEY)), Long
+							.parseLong(XMLStreamUtils.getAttribute(reader,
+									VALUE)));
+				} else if (STATS.equals(enumMap) && STAT.equals(name)) {
+					taskProf.addStatistic(MRStatistics.valueOf(XMLStreamUtils
+							.getAttribute(reader, KEY)), Double
+							.parseDouble(XMLStreamUtils.getAttribute(reader,
+									VALUE)));
+				} else if (FACTORS.equals(enumMap) && FACTOR.equals(name)) {
+					taskProf.addCostFactor(MRCostFactors
+							.valueOf(XMLStreamUtils.getAttribute(reader, KEY)),
+							Double.parseDouble(XMLStreamUtils.getAttribute(
+									reader, VALUE)));
+				} else if (TIMINGS.equals(enumMap) && TIMING.equals(name)) {
+					taskProf.addTiming(MRTaskPhase.valueOf(XMLStreamUtils
+							.getAttribute(reader, KEY)), Double
+							.parseDouble(XMLStreamUtils.getAttribute(reader,
+									VALUE)));
+				}
+				XMLStreamUtils.skipElement(reader);
+			}
 		}
-
 	}
 
 }
@@ -0,0 +1,204 @@
+package edu.duke.starfish.profile.utils;
+
+import static javax.xml.stream.XMLStreamConstants.END_ELEMENT;
+import static javax.xml.stream.XMLStreamConstants.START_ELEMENT;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.stream.XMLStreamWriter;
+
+/**
+ * Utilities for reading and writing XML files with the streaming API for XML
+ * (StAX), used by the XML profile and cluster parsers. The parsers visit the
+ * XML elements one at a time, so the memory they need does not depend on the
+ * size of the XML file. Each element is loaded by iterating over its child
+ * elements with {@link #nextChildElement(XMLStreamReader)}, and skipping the
+ * children that are not needed with {@link #skipElement(XMLStreamReader)}.
+ * 
+ * The writers produce the same bytes as serializing a DOM document with an
+ * indenting transformer: every element starts on a new line, without any
+ * indentation, and the attributes are sorted by name.
+ * 
+ * @author hero
+ */
+public class XMLStreamUtils {
+
+	/* ***************************************************************
+	 * DATA MEMBERS
+	 * ***************************************************************
+	 */
+
+	// The factories are thread-safe once configured
+	private static final XMLInputFactory INPUT_FACTORY = createInputFactory();
+	private static final XMLOutputFactory OUTPUT_FACTORY = XMLOutputFactory
+			.newInstance();
+
+	// Constants
+	public static final String NEW_LINE = "\n";
+	private static final String UTF8 = "UTF-8";
+	private static final String XML_DECL = "<?xml version=\"1.0\" "
+			+ "encoding=\"UTF-8\"";
+	private static final String STANDALONE_DECL = " standalone=\"no\"?>\n";
+	private static final String DECL_END = "?>";
+	private static final String EMPTY = "";
+
+	/* ***************************************************************
+	 * PUBLIC METHODS
+	 * ***************************************************************
+	 */
+
+	/**
+	 * Create a streaming reader over the input stream
+	 * 
+	 * @param in
+	 *            the input stream
+	 * @return the XML stream reader
+	 * @throws XMLStreamException
+	 */
+	public static XMLStreamReader createReader(InputStream in)
+			throws XMLStreamException {
+		return INPUT_FACTORY.createXMLStreamReader(in);
+	}
+
+	/**
+	 * Create a streaming writer over the output stream and write the XML
+	 * declaration. The writer must be flushed with
+	 * {@link #closeWriter(XMLStreamWriter)}, which does not close the output
+	 * stream.
+	 * 
+	 * @param out
+	 *            the output stream
+	 * @param standalone
+	 *            whether the document is standalone, in which case the
+	 *            declaration omits the standalone attribute and the root
+	 *            element follows it on the same line
+	 * @return the XML stream writer
+	 * @throws XMLStreamException
+	 */
+	public static XMLStreamWriter createWriter(OutputStream out,
+			boolean standalone) throws XMLStreamException {
+		try {
+			Writer writer = new BufferedWriter(new OutputStreamWriter(out,
+					UTF8));
+			writer.write(XML_DECL);
+			writer.write(standalone ? DECL_END : STANDALONE_DECL);
+			return OUTPUT_FACTORY.createXMLStreamWriter(writer);
+		} catch (IOException e) {
+			throw new XMLStreamException(e);
+		}
+	}
+
+	/**
+	 * Close any open elements, end the document with a new line, and flush
+	 * the writer into the underlying output stream
+	 * 
+	 * @param writer
+	 *            the XML stream writer
+	 * @throws XMLStreamException
+	 */
+	public static void closeWriter(XMLStreamWriter writer)
+			throws XMLStreamException {
+		writer.writeEndDocument();
+		writer.writeCharacters(NEW_LINE);
+		writer.flush();
+		writer.close();
+	}
+
+	/**
+	 * Close the reader, ignoring any errors
+	 * 
+	 * @param reader
+	 *            the XML stream reader (may be null)
+	 */
+	public static void closeQuietly(XMLStreamReader reader) {
+		try {
+			if (reader != null)
+				reader.close();
+		} catch (XMLStreamException e) {
+		}
+	}
+
+	/**
+	 * Move the reader to the start of the next child element of the current
+	 * element, skipping any text and comments. The caller must consume each
+	 * child element up to its end before moving to the next one.
+	 * 
+	 * @param reader
+	 *            the XML stream reader
+	 * @return true if the reader is at the start of a child element, false if
+	 *         it is at the end of the current element
+	 * @throws XMLStreamException
+	 */
+	public static boolean nextChildElement(XMLStreamReader reader)
+			throws XMLStreamException {
+		while (reader.hasNext()) {
+			int event = reader.next();
+			if (event == START_ELEMENT)
+				return true;
+			else if (event == END_ELEMENT)
+				return false;
+		}
+		return false;
+	}
+
+	/**
+	 * Skip the rest of the current element, including all its descendants.
+	 * The reader is left at the end of the element.
+	 * 
+	 * @param reader
+	 *            the XML stream reader, positioned at the start of an element
+	 * @throws XMLStreamException
+	 */
+	public static void skipElement(XMLStreamReader reader)
+			throws XMLStreamException {
+		int depth = 1;
+		while (depth > 0 && reader.hasNext()) {
+			int event = reader.next();
+			if (event == START_ELEMENT)
+				++depth;
+			else if (event == END_ELEMENT)
+				--depth;
+		}
+	}
+
+	/**
+	 * Get the value of an attribute of the current start element. Similar to
+	 * the DOM, a missing attribute has an empty value.
+	 * 
+	 * @param reader
+	 *            the XML stream reader
+	 * @param name
+	 *            the attribute name
+	 * @return the attribute value, or the empty string if it does not exist
+	 */
+	public static String getAttribute(XMLStreamReader reader, String name) {
+		String value = reader.getAttributeValue(null, name);
+		return value == null ? EMPTY : value;
+	}
+
+	/* ***************************************************************
+	 * PRIVATE METHODS
+	 * ***************************************************************
+	 */
+
+	/**
+	 * @return a new input factory that does not resolve external entities
+	 */
+	private static XMLInputFactory createInputFactory() {
+		XMLInputFactory factory = XMLInputFactory.newInstance();
+		factory.setProperty(
+				XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES,
+				Boolean.FALSE);
+		return factory;
+	}
+
+}
@@ -12,6 +12,7 @@ import edu.duke.starfish.profile.profileinfo.execution.jobs.MRJobInfo;
 import edu.duke.starfish.profile.profileinfo.execution.profile.MRJobProfile;
 import edu.duke.starfish.profile.utils.ProfileUtils;
 import edu.duke.starfish.whatif.data.DataSetModel;
+import edu.duke.starfish.whatif.data.JobParameters;
 import edu.duke.starfish.whatif.data.RealAvgDataSetModel;
 import edu.duke.starfish.whatif.oracle.JobProfileOracle;
 import edu.duke.starfish.whatif.scheduler.BasicFIFOScheduler;
@@ -147,8 +148,27 @@ public class WhatIfEngine {
 	 */
 	public double whatIfJobConfGetTime(Date submissionTime, Configuration conf) {
 
-		MRJobProfile jobProf = jobOracle.whatif(conf, dataModel);
-		return scheduler.scheduleJobGetTime(submissionTime, jobProf, conf);
+		return whatIfJobParamsGetTime(submissionTime, new JobParameters(conf));
+	}
+
+	/**
+	 * Returns the job execution time if these particular job configuration
+	 * parameters are used. The parameter values are used directly, without
+	 * going through a configuration, which makes this method suitable for
+	 * asking many what-if questions for the same job (e.g., by the Job
+	 * Optimizer).
+	 * 
+	 * @param submissionTime
+	 *            the job submission time
+	 * @param params
+	 *            the job configuration parameters
+	 * @return the job execution time (in ms)
+	 */
+	public double whatIfJobParamsGetTime(Date submissionTime,
+			JobParameters params) {
+
+		MRJobProfile jobProf = jobOracle.whatif(params, dataModel);
+		return scheduler.scheduleJobGetTime(submissionTime, jobProf, params);
 	}
 
 	/**
@@ -185,8 +205,25 @@ public class WhatIfEngine {
 	public MRJobInfo whatIfJobConfGetJobInfo(Date submissionTime,
 			Configuration conf) {
 
-		MRJobProfile jobProf = jobOracle.whatif(conf, dataModel);
-		return scheduler.scheduleJobGetJobInfo(submissionTime, jobProf, conf);
+		return whatIfJobParamsGetJobInfo(submissionTime,
+				new JobParameters(conf));
+	}
+
+	/**
+	 * Returns the job representation if these particular job configuration
+	 * parameters are used.
+	 * 
+	 * @param submissionTime
+	 *            the job submission time
+	 * @param params
+	 *            the job configuration parameters
+	 * @return the job info
+	 */
+	public MRJobInfo whatIfJobParamsGetJobInfo(Date submissionTime,
+			JobParameters params) {
+
+		MRJobProfile jobProf = jobOracle.whatif(params, dataModel);
+		return scheduler.scheduleJobGetJobInfo(submissionTime, jobProf, params);
 	}
 
 	/* ***************************************************************
@@ -17,8 +17,8 @@ import org.apache.hadoop.fs.Path;
 
 import edu.duke.starfish.profile.profileinfo.ClusterConfiguration;
 import edu.duke.starfish.profile.profileinfo.execution.profile.MRJobProfile;
+import edu.duke.starfish.profile.profiler.ProfileAggregatorClient;
 import edu.duke.starfish.profile.utils.XMLClusterParser;
-import edu.duke.starfish.profile.utils.XMLProfileParser;
 import edu.duke.starfish.whatif.WhatIfEngine.WhatIfQuestion;
 import edu.duke.starfish.whatif.data.DataSetModel;
 import edu.duke.starfish.whatif.data.FixedInputSpecsDataSetModel;
@@ -188,8 +188,8 @@ public class WhatIfEngineDriver {
 		}
 
 		// Get the job profile
-		MRJobProfile sourceProf = XMLProfileParser.importJobProfile(new File(
-				line.getOptionValue(PROFILE)));
+		MRJobProfile sourceProf = ProfileAggregatorClient.importJobProfile(line
+				.getOptionValue(PROFILE));
 
 		// Answer the what-if question
 		WhatIfEngine.answerWhatIfQuestion(WhatIfQuestion.getQuestion(mode),
@@ -215,7 +215,8 @@ public class WhatIfEngineDriver {
 		Option modeOption = OptionBuilder.withArgName(MODE).hasArg()
 				.withDescription("Execution mode options").create(MODE);
 		Option profileOption = OptionBuilder.withArgName(PROFILE).hasArg()
-				.withDescription("The job profile file").create(PROFILE);
+				.withDescription("The job profile file or aggregator location")
+				.create(PROFILE);
 		Option confOption = OptionBuilder.withArgName(CONF).hasArg()
 				.withDescription("The job configuration file").create(CONF);
 		Option inputOption = OptionBuilder.withArgName(INPUT).hasArg()
@@ -322,7 +323,9 @@ public class WhatIfEngineDriver {
 				printUsage(System.err);
 				System.exit(-1);
 			} else {
-				ensureFileExists(line.getOptionValue(PROFILE));
+				String profile = line.getOptionValue(PROFILE);
+				if (!ProfileAggregatorClient.isAggregatorLocation(profile))
+					ensureFileExists(profile);
 			}
 
 			// Check for the options input and cluster
@@ -427,6 +430,8 @@ public class WhatIfEngineDriver {
 		out.println("Description of parameter flags:");
 		out.println("  -mode <option>   " + "The execution mode");
 		out.println("  -profile <file>  " + "The job profile (XML file)");
+		out.println("                   "
+				+ "or aggregator://<host>:<port>/<job_id>");
 		out.println("  -conf <file>     "
 				+ "The job configuration file (XML file)");
 		out.println("  -input <file>    "
@@ -0,0 +1,491 @@
+package edu.duke.starfish.whatif;
+
+import static edu.duke.starfish.profile.utils.Constants.MR_INPUT_DIR;
+import static edu.duke.starfish.profile.utils.Constants.PIG_INPUT_DIRS;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.util.StringUtils;
+
+import edu.duke.starfish.profile.profileinfo.IMRInfoManager;
+import edu.duke.starfish.profile.profileinfo.execution.jobs.MRJobInfo;
+import edu.duke.starfish.profile.profileinfo.execution.profile.MRJobProfile;
+import edu.duke.starfish.profile.utils.GeneralUtils;
+import edu.duke.starfish.profile.utils.ProfileUtils;
+import edu.duke.starfish.whatif.data.DataSetModel;
+import edu.duke.starfish.whatif.data.JobOutputSpecs;
+import edu.duke.starfish.whatif.data.JobParameters;
+import edu.duke.starfish.whatif.data.MapInputSpecs;
+import edu.duke.starfish.whatif.data.RealAvgDataSetModel;
+import edu.duke.starfish.whatif.data.WorkflowDataSetModel;
+import edu.duke.starfish.whatif.oracle.JobProfileOracle;
+import edu.duke.starfish.whatif.scheduler.IWhatIfScheduler;
+
+/**
+ * The Workflow What-if Engine answers what-if questions for a workflow of
+ * MapReduce jobs, like the ones generated by Pig and Hive. The predictions of
+ * the job profile oracles are chained: the predicted output of a job (as
+ * generated by its dataset model) becomes the map input of the jobs that read
+ * it. All jobs are scheduled on the same scheduler, so they share a single
+ * timeline, and each job is submitted as soon as all the jobs it depends on
+ * have completed.
+ * 
+ * A job depends on an earlier job if one of its input directories is (or is
+ * inside) an output directory of the earlier job. Additional dependencies
+ * that do not involve any data can be added explicitly. The jobs must be
+ * added in a topological order, e.g., in the order of submission.
+ * 
+ * The specifications of the external inputs of each job (i.e., the inputs
+ * not produced by other jobs of the workflow) are generated only once, when
+ * the job is added. Hence, the job dataset models are only used for the
+ * shuffle and output specifications afterwards.
+ * 
+ * @author hero
+ */
+public class WorkflowWhatIfEngine {
+
+	/* ***************************************************************
+	 * DATA MEMBERS
+	 * ***************************************************************
+	 */
+
+	private static final Log LOG = LogFactory
+			.getLog(WorkflowWhatIfEngine.class);
+
+	private List<WorkflowJob> jobs; // The job definitions (shared by copies)
+	private List<JobProfileOracle> jobOracles; // The job profile oracles
+	private IWhatIfScheduler scheduler; // The task scheduler simulator
+
+	/**
+	 * Constructor
+	 * 
+	 * @param scheduler
+	 *            the task scheduler (shared by all the jobs)
+	 */
+	public WorkflowWhatIfEngine(IWhatIfScheduler scheduler) {
+		this.jobs = new ArrayList<WorkflowJob>();
+		this.jobOracles = new ArrayList<JobProfileOracle>();
+		this.scheduler = scheduler;
+	}
+
+	/**
+	 * Constructor for a copy of the engine. The copy has its own copies of the
+	 * job profile oracles and the scheduler, which keep state about the last
+	 * prediction, so the two engines can be used by different threads. The job
+	 * definitions are shared, so no more jobs can be added to either engine.
+	 * 
+	 * @param other
+	 *            the engine to copy from
+	 */
+	public WorkflowWhatIfEngine(WorkflowWhatIfEngine other) {
+		this.jobs = other.jobs;
+		this.jobOracles = new ArrayList<JobProfileOracle>(other.jobOracles
+				.size());
+		for (JobProfileOracle jobOracle : other.jobOracles)
+			this.jobOracles.add(new JobProfileOracle(jobOracle));
+		this.scheduler = other.scheduler.copy();
+	}
+
+	/* ***************************************************************
+	 * PUBLIC METHODS
+	 * ***************************************************************
+	 */
+
+	/**
+	 * Add a job to the workflow. The job depends on all the previously added
+	 * jobs whose output it reads.
+	 * 
+	 * @param jobOracle
+	 *            the job profile oracle
+	 * @param dataModel
+	 *            the dataset model of the job (for its external inputs, the
+	 *            shuffle, and the output)
+	 * @param conf
+	 *            the job configuration
+	 * @return the index of the job in the workflow
+	 */
+	public int addJob(JobProfileOracle jobOracle, DataSetModel dataModel,
+			Configuration conf) {
+
+		int jobIndex = jobs.size();
+		WorkflowJob job = new WorkflowJob(dataModel, conf);
+
+		// Find the source of each input (the latest job writing to it)
+		String[] inputDirs = ProfileUtils.getInputDirs(conf);
+		job.inputSources = new int[inputDirs.length];
+		List<String> externalDirs = new ArrayList<String>(inputDirs.length);
+		List<Integer> externalIndexes = new ArrayList<Integer>(
+				inputDirs.length);
+		for (int i = 0; i < inputDirs.length; ++i) {
+			job.inputSources[i] = findSourceJob(inputDirs[i]);
+			if (job.inputSources[i] == -1) {
+				externalDirs.add(inputDirs[i]);
+				externalIndexes.add(i);
+			} else {
+				job.addParent(job.inputSources[i]);
+			}
+		}
+
+		// Generate the specs for the external inputs
+		if (externalDirs.size() == inputDirs.length) {
+			job.externalSpecs = dataModel.generateMapInputSpecs(conf);
+		} else if (!externalDirs.isEmpty()) {
+			Configuration externalConf = new Configuration(conf);
+			externalConf.set(conf.get(MR_INPUT_DIR) != null ? MR_INPUT_DIR
+					: PIG_INPUT_DIRS, StringUtils.arrayToString(externalDirs
+					.toArray(new String[externalDirs.size()])));
+
+			// Map the input indexes back to the indexes of the job inputs
+			for (MapInputSpecs spec : dataModel
+					.generateMapInputSpecs(externalConf)) {
+				job.externalSpecs.add(new MapInputSpecs(externalIndexes
+						.get(spec.getInputIndex()), spec.getNumSplits(), spec
+						.getSize(), spec.isCompressed(), spec.getLocality()));
+			}
+		}
+
+		jobs.add(job);
+		jobOracles.add(jobOracle);
+		LOG.debug("Added workflow job " + jobIndex + " with "
+				+ job.parents.size() + " dependencies");
+		return jobIndex;
+	}
+
+	/**
+	 * Add a dependency between two jobs of the workflow, i.e., the child job
+	 * will not be submitted before the parent job completes
+	 * 
+	 * @param parentIndex
+	 *            the index of the parent job
+	 * @param childIndex
+	 *            the index of the child job
+	 */
+	public void addDependency(int parentIndex, int childIndex) {
+		if (parentIndex < 0 || childIndex >= jobs.size()
+				|| parentIndex >= childIndex)
+			throw new RuntimeException("ERROR: Invalid workflow dependency "
+					+ parentIndex + " -> " + childIndex);
+
+		jobs.get(childIndex).addParent(parentIndex);
+	}
+
+	/**
+	 * @return the number of jobs in the workflow
+	 */
+	public int getNumJobs() {
+		return jobs.size();
+	}
+
+	/**
+	 * @param jobIndex
+	 *            the index of the job
+	 * @return the job configuration
+	 */
+	public Configuration getJobConfiguration(int jobIndex) {
+		return jobs.get(jobIndex).conf;
+	}
+
+	/**
+	 * @param jobIndex
+	 *            the index of the job
+	 * @return the job configuration parameters
+	 */
+	public JobParameters getJobParameters(int jobIndex) {
+		return jobs.get(jobIndex).params;
+	}
+
+	/**
+	 * @param jobIndex
+	 *            the index of the job
+	 * @return the job profile oracle
+	 */
+	public JobProfileOracle getJobOracle(int jobIndex) {
+		return jobOracles.get(jobIndex);
+	}
+
+	/**
+	 * @param jobIndex
+	 *            the index of the job
+	 * @return the indexes of the jobs this job depends on
+	 */
+	public List<Integer> getJobDependencies(int jobIndex) {
+		return jobs.get(jobIndex).parents;
+	}
+
+	/**
+	 * @return the task scheduler
+	 */
+	public IWhatIfScheduler getScheduler() {
+		return scheduler;
+	}
+
+	/**
+	 * Returns the workflow execution time (from the submission of the
+	 * workflow until the last job completes) if the current job
+	 * configurations are used
+	 * 
+	 * @param submissionTime
+	 *            the workflow submission time
+	 * @return the workflow execution time (in ms)
+	 */
+	public double whatIfWorkflowGetTime(Date submissionTime) {
+		return whatIfWorkflowParamsGetTime(submissionTime, getParams());
+	}
+
+	/**
+	 * Returns the workflow execution time (from the submission of the
+	 * workflow until the last job completes) if these particular job
+	 * configuration parameters are used
+	 * 
+	 * @param submissionTime
+	 *            the workflow submission time
+	 * @param params
+	 *            the configuration parameters of each job
+	 * @return the workflow execution time (in ms)
+	 */
+	public double whatIfWorkflowParamsGetTime(Date submissionTime,
+			List<JobParameters> params) {
+
+		long endTime = submissionTime.getTime();
+		for (long jobEndTime : whatif(submissionTime, params, null))
+			endTime = Math.max(endTime, jobEndTime);
+
+		return endTime - submissionTime.getTime();
+	}
+
+	/**
+	 * Returns the job representations if the current job configurations are
+	 * used
+	 * 
+	 * @param submissionTime
+	 *            the workflow submission time
+	 * @return the job infos (the i-th info is for the i-th job)
+	 */
+	public List<MRJobInfo> whatIfWorkflowGetJobInfos(Date submissionTime) {
+		return whatIfWorkflowParamsGetJobInfos(submissionTime, getParams());
+	}
+
+	/**
+	 * Returns the job representations if these particular job configuration
+	 * parameters are used
+	 * 
+	 * @param submissionTime
+	 *            the workflow submission time
+	 * @param params
+	 *            the configuration parameters of each job
+	 * @return the job infos (the i-th info is for the i-th job)
+	 */
+	public List<MRJobInfo> whatIfWorkflowParamsGetJobInfos(
+			Date submissionTime, List<JobParameters> params) {
+
+		MRJobInfo[] jobInfos = new MRJobInfo[jobs.size()];
+		whatif(submissionTime, params, jobInfos);
+
+		List<MRJobInfo> result = new ArrayList<MRJobInfo>(jobInfos.length);
+		for (MRJobInfo jobInfo : jobInfos)
+			result.add(jobInfo);
+		return result;
+	}
+
+	/* ***************************************************************
+	 * PUBLIC STATIC METHODS
+	 * ***************************************************************
+	 */
+
+	/**
+	 * Create a workflow what-if engine for the MapReduce jobs of a workflow
+	 * (e.g., the jobs of a Pig or Hive query). The profile and configuration
+	 * of each job are loaded from the manager, and the external inputs of
+	 * each job are modeled by a {@link RealAvgDataSetModel}.
+	 * 
+	 * @param mrJobs
+	 *            the MapReduce jobs in the order of submission
+	 * @param manager
+	 *            the manager to load the profiles and configurations from
+	 * @param scheduler
+	 *            the task scheduler
+	 * @return the workflow what-if engine
+	 */
+	public static WorkflowWhatIfEngine createWorkflowWhatIfEngine(
+			List<MRJobInfo> mrJobs, IMRInfoManager manager,
+			IWhatIfScheduler scheduler) {
+
+		WorkflowWhatIfEngine engine = new WorkflowWhatIfEngine(scheduler);
+		DataSetModel dataModel = new RealAvgDataSetModel();
+
+		for (MRJobInfo mrJob : mrJobs) {
+			MRJobProfile profile = manager.getMRJobProfile(mrJob.getExecId());
+			Configuration conf = manager.getHadoopConfiguration(mrJob
+					.getExecId());
+			if (profile == null || conf == null)
+				throw new RuntimeException(
+						"ERROR: Unable to load the profile or the "
+								+ "configuration for job " + mrJob.getExecId());
+
+			engine.addJob(new JobProfileOracle(profile), dataModel, conf);
+		}
+
+		return engine;
+	}
+
+	/* ***************************************************************
+	 * PRIVATE METHODS
+	 * ***************************************************************
+	 */
+
+	/**
+	 * @return the current configuration parameters of each job
+	 */
+	private List<JobParameters> getParams() {
+		List<JobParameters> params = new ArrayList<JobParameters>(jobs.size());
+		for (WorkflowJob job : jobs)
+			params.add(job.params);
+		return params;
+	}
+
+	/**
+	 * Find the latest job in the workflow that writes into the provided
+	 * input directory
+	 * 
+	 * @param inputDir
+	 *            the input directory (may be a glob inside an output dir)
+	 * @return the job index, or -1 if the input is external
+	 */
+	private int findSourceJob(String inputDir) {
+		String input = GeneralUtils.normalizePath(inputDir);
+		for (int j = jobs.size() - 1; j >= 0; --j) {
+			for (String outputDir : jobs.get(j).outputDirs) {
+				if (input.equals(outputDir)
+						|| input.startsWith(outputDir + Path.SEPARATOR))
+					return j;
+			}
+		}
+
+		return -1;
+	}
+
+	/**
+	 * Predict and schedule all the jobs of the workflow, in order. The map
+	 * input specs of each job consist of the specs of its external inputs
+	 * and the specs derived from the predicted output of its source jobs.
+	 * 
+	 * @param submissionTime
+	 *            the workflow submission time
+	 * @param params
+	 *            the configuration parameters of each job
+	 * @param jobInfos
+	 *            if not null, it is populated with the scheduled jobs
+	 * @return the end time of each job
+	 */
+	private long[] whatif(Date submissionTime, List<JobParameters> params,
+			MRJobInfo[] jobInfos) {
+
+		if (params.size() != jobs.size())
+			throw new RuntimeException("ERROR: Expected parameters for "
+					+ jobs.size() + " jobs but got " + params.size());
+
+		int numJobs = jobs.size();
+		long[] endTimes = new long[numJobs];
+		List<List<JobOutputSpecs>> outputSpecs =
+			new ArrayList<List<JobOutputSpecs>>(numJobs);
+
+		for (int i = 0; i < numJobs; ++i) {
+			WorkflowJob job = jobs.get(i);
+			JobParameters jobParams = params.get(i);
+			Configuration jobConf = jobParams.getConfiguration();
+
+			// Chain the predicted output of the source jobs
+			List<MapInputSpecs> inputSpecs = new ArrayList<MapInputSpecs>(
+					job.externalSpecs);
+			for (int k = 0; k < job.inputSources.length; ++k) {
+				if (job.inputSources[k] != -1)
+					WorkflowDataSetModel.addMapInputSpecs(inputSpecs, k,
+							outputSpecs.get(job.inputSources[k]), jobConf);
+			}
+
+			// Predict the job and its output
+			MRJobProfile jobProf = jobOracles.get(i).whatif(jobParams,
+					new WorkflowDataSetModel(job.dataModel, inputSpecs));
+			outputSpecs.add(job.dataModel.generateJobOutputSpecs(jobConf,
+					jobProf));
+
+			// Submit the job after all the jobs it depends on complete
+			long jobSubmissionTime = submissionTime.getTime();
+			for (int parent : job.parents)
+				jobSubmissionTime = Math.max(jobSubmissionTime,
+						endTimes[parent]);
+
+			if (jobInfos != null) {
+				jobInfos[i] = scheduler.scheduleJobGetJobInfo(new Date(
+						jobSubmissionTime), jobProf, jobParams);
+				endTimes[i] = jobInfos[i].getEndTime().getTime();
+			} else {
+				endTimes[i] = scheduler.scheduleJobGetEndTime(
+						new Date(jobSubmissionTime), jobProf, jobParams)
+						.getTime();
+			}
+		}
+
+		return endTimes;
+	}
+
+	/* ***************************************************************
+	 * PRIVATE CLASSES
+	 * ***************************************************************
+	 */
+
+	/**
+	 * The definition of a job in the workflow, which is not modified after
+	 * the job is added (other than its dependencies)
+	 * 
+	 * @author hero
+	 */
+	private static class WorkflowJob {
+
+		private DataSetModel dataModel; // The dataset model of the job
+		private Configuration conf; // The job configuration
+		private JobParameters params; // The typed job configuration
+		private String[] outputDirs; // The normalized output directories
+		private int[] inputSources; // The source job of each input (or -1)
+		private List<MapInputSpecs> externalSpecs; // The external input specs
+		private List<Integer> parents; // The jobs this job depends on
+
+		/**
+		 * Constructor
+		 * 
+		 * @param dataModel
+		 *            the dataset model of the job
+		 * @param conf
+		 *            the job configuration
+		 */
+		public WorkflowJob(DataSetModel dataModel, Configuration conf) {
+			this.dataModel = dataModel;
+			this.conf = conf;
+			this.params = new JobParameters(conf);
+			this.outputDirs = ProfileUtils.getOutputDirs(conf);
+			for (int i = 0; i < outputDirs.length; ++i)
+				outputDirs[i] = GeneralUtils.normalizePath(outputDirs[i]);
+			this.inputSources = null;
+			this.externalSpecs = new ArrayList<MapInputSpecs>();
+			this.parents = new ArrayList<Integer>();
+		}
+
+		/**
+		 * Add a job this job depends on (if not already added)
+		 * 
+		 * @param parent
+		 *            the index of the parent job
+		 */
+		public void addParent(int parent) {
+			if (!parents.contains(parent))
+				parents.add(parent);
+		}
+	}
+
+}
@@ -18,6 +18,11 @@ import edu.duke.starfish.profile.profileinfo.execution.profile.enums.MRStatistic
  * about the input, intermediate, and output datasets of a MapReduce job.
  * 
  * The default implementation to generate reduce shuffle specs assumes no skew.
+ * A {@link ReduceSkewModel} can split the shuffle specs into buckets of
+ * reducers with different sizes.
+ * 
+ * Note: The job optimizer may use the same data set model from multiple
+ * threads concurrently, so implementations must be thread-safe.
  * 
  * @author hero
  */
@@ -43,10 +48,24 @@ public abstract class DataSetModel {
 	 */
 	public List<ReduceShuffleSpecs> generateReduceShuffleSpecs(
 			Configuration conf, List<MRMapProfile> mapProfiles) {
+		return generateReduceShuffleSpecs(conf.getInt(MR_RED_TASKS, 1),
+				mapProfiles);
+	}
+
+	/**
+	 * Generate the reduce shuffle specifications
+	 * 
+	 * @param numReducers
+	 *            the number of reducers
+	 * @param mapProfiles
+	 *            the map profiles
+	 * @return the shuffle specifications
+	 */
+	public List<ReduceShuffleSpecs> generateReduceShuffleSpecs(
+			int numReducers, List<MRMapProfile> mapProfiles) {
 		double shuffleSize = 0l;
 		double shuffleRecs = 0l;
 		int numMappers = 0;
-		int numReducers = conf.getInt(MR_RED_TASKS, 1);
 
 		for (MRMapProfile mapProf : mapProfiles) {
 			// Add up the total shuffle size
@@ -76,6 +95,27 @@ public abstract class DataSetModel {
 		return shuffleSpecs;
 	}
 
+	/**
+	 * Generate the reduce shuffle specifications and split them into buckets
+	 * of reducers with similar sizes based on the skew model
+	 * 
+	 * @param numReducers
+	 *            the number of reducers
+	 * @param mapProfiles
+	 *            the map profiles
+	 * @param skewModel
+	 *            the reducer skew model (null for no skew)
+	 * @return the shuffle specifications
+	 */
+	public List<ReduceShuffleSpecs> generateReduceShuffleSpecs(
+			int numReducers, List<MRMapProfile> mapProfiles,
+			ReduceSkewModel skewModel) {
+		List<ReduceShuffleSpecs> shuffleSpecs = generateReduceShuffleSpecs(
+				numReducers, mapProfiles);
+		return (skewModel == null) ? shuffleSpecs : skewModel
+				.applySkew(shuffleSpecs);
+	}
+
 	/**
 	 * Generate the job output specifications
 	 * 
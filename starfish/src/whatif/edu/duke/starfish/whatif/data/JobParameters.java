@@ -0,0 +1,400 @@
+package edu.duke.starfish.whatif.data;
+
+import static edu.duke.starfish.profile.utils.Constants.*;
+
+import java.util.List;
+
+import org.apache.hadoop.conf.Configuration;
+
+import edu.duke.starfish.profile.utils.ProfileUtils;
+
+/**
+ * The typed values of the job configuration parameters that the What-if Engine
+ * depends on. The values are read (and parsed) from a Configuration once, and
+ * can then be modified directly through the setters, without going through
+ * the Configuration. This allows the Job Optimizer to ask many what-if
+ * questions without writing and parsing the parameter values as strings.
+ * 
+ * The underlying configuration is still used for the settings that do not
+ * change across what-if questions, e.g., the job inputs. For the same reason,
+ * the map input specs are generated from the configuration only once per data
+ * set model and are then reused by all what-if questions.
+ * 
+ * @author hero
+ */
+public class JobParameters {
+
+	/* ***************************************************************
+	 * DATA MEMBERS
+	 * ***************************************************************
+	 */
+
+	private Configuration conf; // The underlying configuration
+
+	// Map-side parameters
+	private int sortMB;
+	private float spillPerc;
+	private float sortRecPerc;
+	private int sortFactor;
+	private int numSpillsForCombine;
+
+	// Reduce-side parameters
+	private int numReducers;
+	private long inMemMergeThr;
+	private float shuffleInBuffPerc;
+	private float shuffleMergePerc;
+	private float redInBuffPerc;
+	private float redSlowstartMaps;
+
+	// Combiner and compression parameters
+	private boolean hasCombiner; // Whether the job has a combiner class
+	private boolean useCombiner;
+	private boolean compressMapOut;
+	private boolean compressOut;
+	private boolean pathCompressOut; // Compression implied by output paths
+
+	// Other settings
+	private long taskMemory;
+	private String[] inputDirs;
+
+	// Cached map input specs
+	private DataSetModel specsModel; // The data model of the input specs
+	private List<MapInputSpecs> inputSpecs; // The map input specs
+
+	/**
+	 * Constructor. Reads the parameter values from the configuration.
+	 * 
+	 * @param conf
+	 *            the job configuration
+	 */
+	public JobParameters(Configuration conf) {
+		this.conf = conf;
+
+		this.sortMB = conf.getInt(MR_SORT_MB, DEF_SORT_MB);
+		this.spillPerc = conf.getFloat(MR_SPILL_PERC, DEF_SPILL_PERC);
+		this.sortRecPerc = conf.getFloat(MR_SORT_REC_PERC, DEF_SORT_REC_PERC);
+		this.sortFactor = conf.getInt(MR_SORT_FACTOR, DEF_SORT_FACTOR);
+		this.numSpillsForCombine = conf.getInt(MR_NUM_SPILLS_COMBINE,
+				DEF_NUM_SPILLS_FOR_COMB);
+
+		this.numReducers = conf.getInt(MR_RED_TASKS, 1);
+		this.inMemMergeThr = conf.getLong(MR_INMEM_MERGE, DEF_INMEM_MERGE);
+		this.shuffleInBuffPerc = conf.getFloat(MR_SHUFFLE_IN_BUFF_PERC,
+				DEF_SHUFFLE_IN_BUFF_PERC);
+		this.shuffleMergePerc = conf.getFloat(MR_SHUFFLE_MERGE_PERC,
+				DEF_SHUFFLE_MERGE_PERC);
+		this.redInBuffPerc = conf.getFloat(MR_RED_IN_BUFF_PERC,
+				DEF_RED_IN_BUFF_PERC);
+		this.redSlowstartMaps = conf.getFloat(MR_RED_SLOWSTART_MAPS,
+				DEF_RED_SLOWSTART_MAPS);
+
+		this.hasCombiner = conf.get(MR_COMBINE_CLASS) != null;
+		this.useCombiner = conf.getBoolean(STARFISH_USE_COMBINER, true);
+		this.compressMapOut = conf.getBoolean(MR_COMPRESS_MAP_OUT, false);
+		this.compressOut = conf.getBoolean(MR_COMPRESS_OUT, false);
+		this.pathCompressOut = ProfileUtils.isMROutputPathCompressionOn(conf);
+
+		this.taskMemory = ProfileUtils.getTaskMemory(conf);
+		this.inputDirs = ProfileUtils.getInputDirs(conf);
+	}
+
+	/**
+	 * Copy constructor. The underlying configuration and the cached map input
+	 * specs are shared.
+	 * 
+	 * @param other
+	 *            the parameters to copy
+	 */
+	public JobParameters(JobParameters other) {
+		this.conf = other.conf;
+
+		this.sortMB = other.sortMB;
+		this.spillPerc = other.spillPerc;
+		this.sortRecPerc = other.sortRecPerc;
+		this.sortFactor = other.sortFactor;
+		this.numSpillsForCombine = other.numSpillsForCombine;
+
+		this.numReducers = other.numReducers;
+		this.inMemMergeThr = other.inMemMergeThr;
+		this.shuffleInBuffPerc = other.shuffleInBuffPerc;
+		this.shuffleMergePerc = other.shuffleMergePerc;
+		this.redInBuffPerc = other.redInBuffPerc;
+		this.redSlowstartMaps = other.redSlowstartMaps;
+
+		this.hasCombiner = other.hasCombiner;
+		this.useCombiner = other.useCombiner;
+		this.compressMapOut = other.compressMapOut;
+		this.compressOut = other.compressOut;
+		this.pathCompressOut = other.pathCompressOut;
+
+		this.taskMemory = other.taskMemory;
+		this.inputDirs = other.inputDirs;
+
+		this.specsModel = other.specsModel;
+		this.inputSpecs = other.inputSpecs;
+	}
+
+	/* ***************************************************************
+	 * GETTERS & SETTERS
+	 * ***************************************************************
+	 */
+
+	/**
+	 * @return the underlying configuration (only valid for the settings that
+	 *         are not represented in this class)
+	 */
+	public Configuration getConfiguration() {
+		return conf;
+	}
+
+	/**
+	 * @return the io.sort.mb
+	 */
+	public int getSortMB() {
+		return sortMB;
+	}
+
+	/**
+	 * @param sortMB
+	 *            the io.sort.mb to set
+	 */
+	public void setSortMB(int sortMB) {
+		this.sortMB = sortMB;
+	}
+
+	/**
+	 * @return the io.sort.spill.percent
+	 */
+	public float getSpillPerc() {
+		return spillPerc;
+	}
+
+	/**
+	 * @param spillPerc
+	 *            the io.sort.spill.percent to set
+	 */
+	public void setSpillPerc(float spillPerc) {
+		this.spillPerc = spillPerc;
+	}
+
+	/**
+	 * @return the io.sort.record.percent
+	 */
+	public float getSortRecPerc() {
+		return sortRecPerc;
+	}
+
+	/**
+	 * @param sortRecPerc
+	 *            the io.sort.record.percent to set
+	 */
+	public void setSortRecPerc(float sortRecPerc) {
+		this.sortRecPerc = sortRecPerc;
+	}
+
+	/**
+	 * @return the io.sort.factor
+	 */
+	public int getSortFactor() {
+		return sortFactor;
+	}
+
+	/**
+	 * @param sortFactor
+	 *            the io.sort.factor to set
+	 */
+	public void setSortFactor(int sortFactor) {
+		this.sortFactor = sortFactor;
+	}
+
+	/**
+	 * @return the min.num.spills.for.combine
+	 */
+	public int getNumSpillsForCombine() {
+		return numSpillsForCombine;
+	}
+
+	/**
+	 * @param numSpillsForCombine
+	 *            the min.num.spills.for.combine to set
+	 */
+	public void setNumSpillsForCombine(int numSpillsForCombine) {
+		this.numSpillsForCombine = numSpillsForCombine;
+	}
+
+	/**
+	 * @return the mapred.reduce.tasks
+	 */
+	public int getNumReducers() {
+		return numReducers;
+	}
+
+	/**
+	 * @param numReducers
+	 *            the mapred.reduce.tasks to set
+	 */
+	public void setNumReducers(int numReducers) {
+		this.numReducers = numReducers;
+	}
+
+	/**
+	 * @return the mapred.inmem.merge.threshold
+	 */
+	public long getInMemMergeThr() {
+		return inMemMergeThr;
+	}
+
+	/**
+	 * @param inMemMergeThr
+	 *            the mapred.inmem.merge.threshold to set
+	 */
+	public void setInMemMergeThr(long inMemMergeThr) {
+		this.inMemMergeThr = inMemMergeThr;
+	}
+
+	/**
+	 * @return the mapred.job.shuffle.input.buffer.percent
+	 */
+	public float getShuffleInBuffPerc() {
+		return shuffleInBuffPerc;
+	}
+
+	/**
+	 * @param shuffleInBuffPerc
+	 *            the mapred.job.shuffle.input.buffer.percent to set
+	 */
+	public void setShuffleInBuffPerc(float shuffleInBuffPerc) {
+		this.shuffleInBuffPerc = shuffleInBuffPerc;
+	}
+
+	/**
+	 * @return the mapred.job.shuffle.merge.percent
+	 */
+	public float getShuffleMergePerc() {
+		return shuffleMergePerc;
+	}
+
+	/**
+	 * @param shuffleMergePerc
+	 *            the mapred.job.shuffle.merge.percent to set
+	 */
+	public void setShuffleMergePerc(float shuffleMergePerc) {
+		this.shuffleMergePerc = shuffleMergePerc;
+	}
+
+	/**
+	 * @return the mapred.job.reduce.input.buffer.percent
+	 */
+	public float getRedInBuffPerc() {
+		return redInBuffPerc;
+	}
+
+	/**
+	 * @param redInBuffPerc
+	 *            the mapred.job.reduce.input.buffer.percent to set
+	 */
+	public void setRedInBuffPerc(float redInBuffPerc) {
+		this.redInBuffPerc = redInBuffPerc;
+	}
+
+	/**
+	 * @return the mapred.reduce.slowstart.completed.maps
+	 */
+	public float getRedSlowstartMaps() {
+		return redSlowstartMaps;
+	}
+
+	/**
+	 * @param redSlowstartMaps
+	 *            the mapred.reduce.slowstart.completed.maps to set
+	 */
+	public void setRedSlowstartMaps(float redSlowstartMaps) {
+		this.redSlowstartMaps = redSlowstartMaps;
+	}
+
+	/**
+	 * @return true if the job has a combiner and the starfish.use.combiner
+	 *         flag is on
+	 */
+	public boolean isCombinerUsed() {
+		return hasCombiner && useCombiner;
+	}
+
+	/**
+	 * @param useCombiner
+	 *            the starfish.use.combiner flag to set
+	 */
+	public void setUseCombiner(boolean useCombiner) {
+		this.useCombiner = useCombiner;
+	}
+
+	/**
+	 * @return the mapred.compress.map.output
+	 */
+	public boolean isCompressMapOut() {
+		return compressMapOut;
+	}
+
+	/**
+	 * @param compressMapOut
+	 *            the mapred.compress.map.output to set
+	 */
+	public void setCompressMapOut(boolean compressMapOut) {
+		this.compressMapOut = compressMapOut;
+	}
+
+	/**
+	 * @return true if the job output is compressed, based on either the
+	 *         mapred.output.compress flag or the output paths
+	 */
+	public boolean isOutputCompressionOn() {
+		return compressOut || pathCompressOut;
+	}
+
+	/**
+	 * @param compressOut
+	 *            the mapred.output.compress to set
+	 */
+	public void setCompressOut(boolean compressOut) {
+		this.compressOut = compressOut;
+	}
+
+	/**
+	 * @return the task memory (in bytes) set in mapred.child.java.opts
+	 */
+	public long getTaskMemory() {
+		return taskMemory;
+	}
+
+	/**
+	 * @return the job input directories
+	 */
+	public String[] getInputDirs() {
+		return inputDirs;
+	}
+
+	/* ***************************************************************
+	 * PUBLIC METHODS
+	 * ***************************************************************
+	 */
+
+	/**
+	 * Get the map input specs of the job. The input specs only depend on
+	 * settings that are not represented in this class (e.g., the job inputs
+	 * and the split sizes), so they are generated once from the underlying
+	 * configuration and cached until a different data set model is given.
+	 * The returned list must not be modified.
+	 * 
+	 * @param dataModel
+	 *            the data model that can reason about the data
+	 * @return the map input specs
+	 */
+	public List<MapInputSpecs> getMapInputSpecs(DataSetModel dataModel) {
+		if (inputSpecs == null || specsModel != dataModel) {
+			inputSpecs = dataModel.generateMapInputSpecs(conf);
+			specsModel = dataModel;
+		}
+		return inputSpecs;
+	}
+
+}
@@ -18,20 +18,22 @@ import org.apache.hadoop.fs.Path;
 import org.apache.hadoop.io.SequenceFile;
 import org.apache.hadoop.io.compress.CompressionCodec;
 import org.apache.hadoop.io.compress.CompressionCodecFactory;
-import org.apache.hadoop.mapreduce.InputFormat;
 import org.apache.hadoop.mapreduce.InputSplit;
 import org.apache.hadoop.mapreduce.JobContext;
 import org.apache.hadoop.mapreduce.lib.input.FileSplit;
-import org.apache.hadoop.util.ReflectionUtils;
 
 import edu.duke.starfish.profile.profileinfo.execution.DataLocality;
 import edu.duke.starfish.profile.utils.GeneralUtils;
+import edu.duke.starfish.profile.utils.InputSplitCache;
 import edu.duke.starfish.profile.utils.ProfileUtils;
 
 /**
  * This data set model assumes the input for this job is real and exists in the
  * default file system. It also averages out the data across the reducers.
  * 
+ * The input splits are obtained through the {@link InputSplitCache}, so the
+ * input directories are listed only when they have changed.
+ * 
  * @author hero
  */
 public class RealAvgDataSetModel extends DataSetModel {
@@ -61,27 +63,18 @@ public class RealAvgDataSetModel extends DataSetModel {
 	 * @see DataSetModel#generateMapInputSpecs(Configuration)
 	 */
 	@Override
-	public List<MapInputSpecs> generateMapInputSpecs(Configuration conf) {
+	public synchronized List<MapInputSpecs> generateMapInputSpecs(
+			Configuration conf) {
 
 		// Check the cache first
 		if (inputSpecsCache != null)
 			return inputSpecsCache;
 		inputSpecsCache = new ArrayList<MapInputSpecs>();
-
-		// Get the input format
-		JobContext context = new JobContext(conf, null);
-		conf = context.getConfiguration();
-		InputFormat<?, ?> input = null;
-		try {
-			input = ReflectionUtils.newInstance(context.getInputFormatClass(),
-					conf);
-		} catch (ClassNotFoundException e) {
-			throw new RuntimeException(e);
-		}
+		conf = new JobContext(conf, null).getConfiguration();
 
 		try {
-			// Get all the input splits
-			List<InputSplit> allSplits = input.getSplits(context);
+			// Get all the input splits (possibly from the split cache)
+			List<InputSplit> allSplits = InputSplitCache.getSplits(conf);
 			if (allSplits == null || allSplits.size() == 0) {
 				LOG.error("ERROR: No input splits were found!");
 				return inputSpecsCache;
@@ -0,0 +1,310 @@
+package edu.duke.starfish.whatif.data;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import edu.duke.starfish.profile.profileinfo.IMRInfoManager;
+import edu.duke.starfish.profile.profileinfo.execution.MRExecutionStatus;
+import edu.duke.starfish.profile.profileinfo.execution.jobs.MRJobInfo;
+import edu.duke.starfish.profile.profileinfo.execution.mrtaskattempts.MRReduceAttemptInfo;
+import edu.duke.starfish.profile.profileinfo.metrics.DataTransfer;
+import edu.duke.starfish.profile.utils.ProfileUtils;
+
+/**
+ * Models the skew in the amount of data that reaches each reducer. The model
+ * captures the distribution of the shuffle sizes of the reducers of a source
+ * job (from its data transfers), as ratios over the mean shuffle size, and
+ * predicts the distribution for a different number of reducers:
+ * 
+ * <ul>
+ * <li>The ratio of the i-th largest reducer out of R' is the ratio at the
+ * same quantile of the source distribution (with linear interpolation)</li>
+ * <li>The deviation of each ratio from the mean is scaled by sqrt(R' / R),
+ * where R is the number of source reducers. When the keys are hash
+ * partitioned, each reducer gets 1/R' of the keys, so the relative deviation
+ * of the reducer sizes grows with the square root of the number of reducers.
+ * </li>
+ * </ul>
+ * 
+ * The predicted reducers are grouped into a few buckets of reducers with
+ * similar sizes, and each bucket becomes one {@link ReduceShuffleSpecs}, with
+ * the number of reducers in the bucket as its multiplicity. Hence, the
+ * oracles and the schedulers see the large reducers that determine the job
+ * execution time, rather than the mean reducer.
+ * 
+ * The model is immutable, so it can be shared by many threads.
+ * 
+ * @author hero
+ */
+public class ReduceSkewModel {
+
+	/* ***************************************************************
+	 * DATA MEMBERS
+	 * ***************************************************************
+	 */
+
+	private double[] ratios; // The source ratios over the mean (decreasing)
+	private int numBuckets; // The max number of buckets
+
+	public static final int DEF_NUM_BUCKETS = 8;
+
+	/** Whether the job optimizer models the skew of the reducers */
+	public static final String REDUCE_SKEW = "starfish.whatif.reduce.skew";
+
+	/**
+	 * Constructor
+	 * 
+	 * @param shuffleSizes
+	 *            the shuffle sizes of the source reducers
+	 * @param numBuckets
+	 *            the max number of buckets of reducers
+	 */
+	public ReduceSkewModel(double[] shuffleSizes, int numBuckets) {
+		if (shuffleSizes.length == 0)
+			throw new RuntimeException("ERROR: No reducer sizes for the "
+					+ "skew model");
+		if (numBuckets <= 0)
+			throw new RuntimeException("ERROR: The number of buckets must "
+					+ "be positive: " + numBuckets);
+		this.numBuckets = numBuckets;
+
+		double total = 0d;
+		for (double size : shuffleSizes) {
+			if (size < 0)
+				throw new RuntimeException("ERROR: Negative reducer size: "
+						+ size);
+			total += size;
+		}
+
+		// Keep the ratios over the mean in decreasing order
+		int numReducers = shuffleSizes.length;
+		ratios = new double[numReducers];
+		for (int i = 0; i < numReducers; ++i) {
+			ratios[i] = (total == 0d) ? 1d : shuffleSizes[i] * numReducers
+					/ total;
+		}
+		Arrays.sort(ratios);
+		for (int i = 0, j = numReducers - 1; i < j; ++i, --j) {
+			double temp = ratios[i];
+			ratios[i] = ratios[j];
+			ratios[j] = temp;
+		}
+	}
+
+	/* ***************************************************************
+	 * PUBLIC METHODS
+	 * ***************************************************************
+	 */
+
+	/**
+	 * @return the max number of buckets of reducers
+	 */
+	public int getNumBuckets() {
+		return numBuckets;
+	}
+
+	/**
+	 * @return the number of source reducers
+	 */
+	public int getNumSourceReducers() {
+		return ratios.length;
+	}
+
+	/**
+	 * Predict the shuffle size of each reducer as a ratio over the mean
+	 * shuffle size
+	 * 
+	 * @param numReducers
+	 *            the number of reducers
+	 * @return the ratios in decreasing order (their mean is 1)
+	 */
+	public double[] getReducerRatios(int numReducers) {
+		if (numReducers <= 0)
+			throw new RuntimeException("ERROR: The number of reducers must "
+					+ "be positive: " + numReducers);
+
+		int numSource = ratios.length;
+		double scale = Math.sqrt(numReducers / (double) numSource);
+		double[] newRatios = new double[numReducers];
+		double total = 0d;
+		for (int j = 0; j < numReducers; ++j) {
+			// Find the ratio at the same quantile of the source reducers
+			double pos = (j + 0.5d) * numSource / numReducers - 0.5d;
+			double ratio;
+			if (pos <= 0d) {
+				ratio = ratios[0];
+			} else if (pos >= numSource - 1) {
+				ratio = ratios[numSource - 1];
+			} else {
+				int i = (int) pos;
+				double frac = pos - i;
+				ratio = ratios[i] + frac * (ratios[i + 1] - ratios[i]);
+			}
+
+			newRatios[j] = Math.max(0d, 1d + (ratio - 1d) * scale);
+			total += newRatios[j];
+		}
+
+		// Make sure the mean is still 1
+		for (int j = 0; j < numReducers; ++j)
+			newRatios[j] = (total == 0d) ? 1d : newRatios[j] * numReducers
+					/ total;
+		return newRatios;
+	}
+
+	/**
+	 * Split each shuffle specification (which assumes no skew) into buckets of
+	 * reducers with similar shuffle sizes. The total shuffle size and records
+	 * of each specification are preserved (up to rounding).
+	 * 
+	 * @param shuffleSpecs
+	 *            the shuffle specifications without skew
+	 * @return the shuffle specifications of the buckets, the largest first
+	 */
+	public List<ReduceShuffleSpecs> applySkew(
+			List<ReduceShuffleSpecs> shuffleSpecs) {
+		List<ReduceShuffleSpecs> skewedSpecs = new ArrayList<ReduceShuffleSpecs>(
+				numBuckets * shuffleSpecs.size());
+		for (ReduceShuffleSpecs spec : shuffleSpecs) {
+			if (spec.getNumReducers() <= 1) {
+				skewedSpecs.add(spec);
+				continue;
+			}
+
+			double[] newRatios = getReducerRatios(spec.getNumReducers());
+			double max = newRatios[0];
+			double width = (max - newRatios[newRatios.length - 1])
+					/ numBuckets;
+
+			// Group the reducers into buckets of equal width of ratios
+			int start = 0;
+			while (start < newRatios.length) {
+				int end = start + 1;
+				double sum = newRatios[start];
+				int bucket = getBucket(newRatios[start], max, width);
+				while (end < newRatios.length
+						&& getBucket(newRatios[end], max, width) == bucket) {
+					sum += newRatios[end];
+					++end;
+				}
+
+				double ratio = sum / (end - start);
+				skewedSpecs.add(new ReduceShuffleSpecs(spec.getNumMappers(),
+						end - start, Math.round(spec.getSize() * ratio), Math
+								.round(spec.getRecords() * ratio)));
+				start = end;
+			}
+		}
+
+		return skewedSpecs;
+	}
+
+	/* ***************************************************************
+	 * OVERRIDEN METHODS
+	 * ***************************************************************
+	 */
+
+	/**
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return "ReduceSkewModel [numSourceReducers=" + ratios.length
+				+ ", maxRatio=" + ratios[0] + ", minRatio="
+				+ ratios[ratios.length - 1] + ", numBuckets=" + numBuckets
+				+ "]";
+	}
+
+	/* ***************************************************************
+	 * PRIVATE METHODS
+	 * ***************************************************************
+	 */
+
+	/**
+	 * @param ratio
+	 *            the ratio of a reducer
+	 * @param max
+	 *            the max ratio
+	 * @param width
+	 *            the width of the buckets
+	 * @return the bucket of the reducer (0 for the largest reducers)
+	 */
+	private int getBucket(double ratio, double max, double width) {
+		if (width == 0d)
+			return 0;
+		return Math.min((int) ((max - ratio) / width), numBuckets - 1);
+	}
+
+	/* ***************************************************************
+	 * PUBLIC STATIC METHODS
+	 * ***************************************************************
+	 */
+
+	/**
+	 * Create a skew model from the data transfers of a job. The shuffle size
+	 * of each successful reducer is the total amount of (compressed) data
+	 * transferred to it.
+	 * 
+	 * @param job
+	 *            the job with its task details and data transfers
+	 * @return the skew model, or null if the job has less than two reducers or
+	 *         no data transfers
+	 */
+	public static ReduceSkewModel createFromTransfers(MRJobInfo job) {
+		List<MRReduceAttemptInfo> redAttempts = job
+				.getReduceAttempts(MRExecutionStatus.SUCCESS);
+		int numReducers = redAttempts.size();
+		if (numReducers < 2)
+			return null;
+
+		Map<MRReduceAttemptInfo, Integer> indexes = new HashMap<MRReduceAttemptInfo, Integer>(
+				2 * numReducers);
+		for (int i = 0; i < numReducers; ++i)
+			indexes.put(redAttempts.get(i), i);
+
+		// Sum up the data transferred to each reducer
+		double[] sizes = new double[numReducers];
+		double total = 0d;
+		for (DataTransfer transfer : job.getDataTransfers()) {
+			Integer index = indexes.get(transfer.getDestination());
+			if (index != null) {
+				sizes[index] += transfer.getComprData();
+				total += transfer.getComprData();
+			}
+		}
+
+		return (total == 0d) ? null : new ReduceSkewModel(sizes,
+				DEF_NUM_BUCKETS);
+	}
+
+	/**
+	 * Create a skew model for a job from the data transfers that the manager
+	 * loads. If the transfers were not captured, they are estimated from the
+	 * profiles of the tasks (see {@link ProfileUtils#generateDataTransfers}).
+	 * 
+	 * @param manager
+	 *            the manager to load the job information from
+	 * @param jobId
+	 *            the job id
+	 * @return the skew model, or null if the data transfers are not available
+	 */
+	public static ReduceSkewModel loadFromManager(IMRInfoManager manager,
+			String jobId) {
+		MRJobInfo job = manager.getMRJobInfo(jobId);
+		if (job == null || job.isMapOnly()
+				|| !manager.loadTaskDetailsForMRJob(job))
+			return null;
+
+		if (manager.loadDataTransfersForMRJob(job)
+				|| (manager.loadProfilesForMRJob(job) && ProfileUtils
+						.generateDataTransfers(job, manager
+								.getHadoopConfiguration(jobId))))
+			return createFromTransfers(job);
+
+		return null;
+	}
+
+}
@@ -0,0 +1,157 @@
+package edu.duke.starfish.whatif.data;
+
+import static edu.duke.starfish.profile.utils.Constants.DEF_SPLIT_SIZE;
+import static edu.duke.starfish.profile.utils.Constants.DFS_BLOCK_SIZE;
+import static edu.duke.starfish.profile.utils.Constants.MR_INPUT_FORMAT_CLASS;
+import static edu.duke.starfish.profile.utils.Constants.MR_MAX_SPLIT_SIZE;
+import static edu.duke.starfish.profile.utils.Constants.MR_MIN_SPLIT_SIZE;
+import static edu.duke.starfish.profile.utils.Constants.MR_SFIF;
+import static edu.duke.starfish.profile.utils.Constants.MR_TIF;
+
+import java.util.List;
+
+import org.apache.hadoop.conf.Configuration;
+
+import edu.duke.starfish.profile.profileinfo.execution.DataLocality;
+import edu.duke.starfish.profile.profileinfo.execution.profile.MRJobProfile;
+import edu.duke.starfish.profile.profileinfo.execution.profile.MRMapProfile;
+
+/**
+ * The dataset model for a job that is part of a workflow. The map input
+ * specifications are fixed, since they are derived from the external inputs
+ * of the job and from the predicted output of the jobs it depends on. The
+ * shuffle and output specifications are generated by the dataset model of
+ * the job.
+ * 
+ * @author hero
+ */
+public class WorkflowDataSetModel extends DataSetModel {
+
+	/* ***************************************************************
+	 * DATA MEMBERS
+	 * ***************************************************************
+	 */
+
+	private DataSetModel jobModel; // The dataset model of the job
+	private List<MapInputSpecs> inputSpecs; // The map input specs
+
+	// Constants
+	private static final double SPLIT_SLOP = 1.1; // 10% slop (like Hadoop)
+
+	/**
+	 * Constructor
+	 * 
+	 * @param jobModel
+	 *            the dataset model of the job
+	 * @param inputSpecs
+	 *            the map input specifications
+	 */
+	public WorkflowDataSetModel(DataSetModel jobModel,
+			List<MapInputSpecs> inputSpecs) {
+		this.jobModel = jobModel;
+		this.inputSpecs = inputSpecs;
+	}
+
+	/* ***************************************************************
+	 * OVERRIDEN METHODS
+	 * ***************************************************************
+	 */
+
+	/**
+	 * @see DataSetModel#generateMapInputSpecs(Configuration)
+	 */
+	@Override
+	public List<MapInputSpecs> generateMapInputSpecs(Configuration conf) {
+		return inputSpecs;
+	}
+
+	/**
+	 * @see DataSetModel#generateReduceShuffleSpecs(int, List)
+	 */
+	@Override
+	public List<ReduceShuffleSpecs> generateReduceShuffleSpecs(
+			int numReducers, List<MRMapProfile> mapProfiles) {
+		return jobModel.generateReduceShuffleSpecs(numReducers, mapProfiles);
+	}
+
+	/**
+	 * @see DataSetModel#generateJobOutputSpecs(Configuration, MRJobProfile)
+	 */
+	@Override
+	public List<JobOutputSpecs> generateJobOutputSpecs(Configuration conf,
+			MRJobProfile jobProfile) {
+		return jobModel.generateJobOutputSpecs(conf, jobProfile);
+	}
+
+	/* ***************************************************************
+	 * PUBLIC STATIC METHODS
+	 * ***************************************************************
+	 */
+
+	/**
+	 * Generate the map input specifications for reading the output of a job,
+	 * and add them to the list of input specifications. Each task of the job
+	 * writes one file, which is split the same way the FileInputFormat splits
+	 * files: a file is broken into splits of the split size, with the last
+	 * split being up to 10% larger. A compressed file is not splittable
+	 * unless it is a sequence file.
+	 * 
+	 * @param inputSpecs
+	 *            the list of input specifications to add to
+	 * @param inputIndex
+	 *            the input index of the job output for the reading job
+	 * @param outputSpecs
+	 *            the output specifications of the job
+	 * @param conf
+	 *            the configuration of the reading job
+	 */
+	public static void addMapInputSpecs(List<MapInputSpecs> inputSpecs,
+			int inputIndex, List<JobOutputSpecs> outputSpecs,
+			Configuration conf) {
+
+		long splitSize = getSplitSize(conf);
+		boolean isSFIF = conf.get(MR_INPUT_FORMAT_CLASS, MR_TIF)
+				.equals(MR_SFIF);
+
+		for (JobOutputSpecs outputSpec : outputSpecs) {
+			int numFiles = outputSpec.getNumTasks();
+			long size = outputSpec.getSize();
+			boolean isCompressed = outputSpec.isCompressed();
+			if (numFiles <= 0)
+				continue;
+
+			if ((isCompressed && !isSFIF)
+					|| size / (double) splitSize <= SPLIT_SLOP) {
+				// One split per file (even for empty files)
+				inputSpecs.add(new MapInputSpecs(inputIndex, numFiles, size,
+						isCompressed, DataLocality.DATA_LOCAL));
+			} else {
+				// Full splits plus the remaining bytes of each file
+				int numFullSplits = (int) Math.ceil(size / (double) splitSize
+						- SPLIT_SLOP);
+				inputSpecs.add(new MapInputSpecs(inputIndex, numFiles
+						* numFullSplits, splitSize, isCompressed,
+						DataLocality.DATA_LOCAL));
+				inputSpecs.add(new MapInputSpecs(inputIndex, numFiles, size
+						- numFullSplits * splitSize, isCompressed,
+						DataLocality.DATA_LOCAL));
+			}
+		}
+	}
+
+	/**
+	 * Get the split size that the FileInputFormat will use, based on the
+	 * block size and the min and max split sizes
+	 * 
+	 * @param conf
+	 *            the job configuration
+	 * @return the split size
+	 */
+	public static long getSplitSize(Configuration conf) {
+		long blockSize = conf.getLong(DFS_BLOCK_SIZE, DEF_SPLIT_SIZE);
+		long minSize = conf.getLong(MR_MIN_SPLIT_SIZE, 1l);
+		long maxSize = conf.getLong(MR_MAX_SPLIT_SIZE, Long.MAX_VALUE);
+		return Math.max(minSize, Math.min(maxSize, blockSize));
+	}
+
+}
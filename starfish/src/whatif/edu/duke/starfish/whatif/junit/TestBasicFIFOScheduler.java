@@ -0,0 +1,89 @@
+package edu.duke.starfish.whatif.junit;
+
+import java.util.Date;
+
+import junit.framework.TestCase;
+
+import org.apache.hadoop.conf.Configuration;
+import org.junit.Test;
+
+import edu.duke.starfish.profile.profileinfo.ClusterConfiguration;
+import edu.duke.starfish.profile.profileinfo.execution.profile.MRJobProfile;
+import edu.duke.starfish.whatif.oracle.JobProfileOracle;
+import edu.duke.starfish.whatif.scheduler.BasicFIFOScheduler;
+
+/**
+ * Test the BasicFIFOScheduler
+ * 
+ * @author hero
+ */
+public class TestBasicFIFOScheduler extends TestCase {
+
+	/**
+	 * Test method for
+	 * {@link BasicFIFOScheduler#scheduleJobGetTime(Date, MRJobProfile, Configuration)}
+	 */
+	@Test
+	public void testScheduleJobGetTime() {
+		// Common elements
+		ClusterConfiguration cluster = SampleProfiles.getClusterConfiguration();
+		SampleDataSetModel model = new SampleDataSetModel();
+
+		// TeraSort ---------------------------------------------------
+		Configuration tsConf = SampleProfiles.getTeraSortConfiguration();
+		tsConf.setInt(SampleDataSetModel.NUM_MAPPERS, 5);
+		tsConf.setLong(SampleDataSetModel.INPUT_SIZE, 20000000l);
+		tsConf.setBoolean(SampleDataSetModel.INPUT_COMPR, false);
+		JobProfileOracle tsOracle = new JobProfileOracle(SampleProfiles
+				.getTeraSortJobProfile());
+		MRJobProfile tsJobProf = tsOracle.whatif(tsConf, model);
+
+		// WordCount ---------------------------------------------------
+		Configuration wcConf = SampleProfiles.getWordCountConfiguration();
+		wcConf.setInt(SampleDataSetModel.NUM_MAPPERS, 15);
+		wcConf.setLong(SampleDataSetModel.INPUT_SIZE, 21252750l);
+		wcConf.setBoolean(SampleDataSetModel.INPUT_COMPR, false);
+		JobProfileOracle wcOracle = new JobProfileOracle(SampleProfiles
+				.getWordCountJobProfile());
+		MRJobProfile wcJobProf = wcOracle.whatif(wcConf, model);
+
+		// Compare against the full schedule on fresh schedulers
+		for (int ignore = 0; ignore < 2; ++ignore) {
+			BasicFIFOScheduler fast = new BasicFIFOScheduler(cluster);
+			fast.setIgnoreReducers(ignore == 1);
+			BasicFIFOScheduler full = new BasicFIFOScheduler(fast);
+			fast.checkpoint();
+			full.checkpoint();
+			Date submissionTime = new Date();
+
+			// Repeated calls without a reset build up the slot state
+			for (int i = 0; i < 3; ++i) {
+				assertEquals(full.scheduleJobGetJobInfo(submissionTime,
+						tsJobProf, tsConf).getDuration(), fast
+						.scheduleJobGetTime(submissionTime, tsJobProf, tsConf),
+						0.000001);
+				assertEquals(full.scheduleJobGetJobInfo(submissionTime,
+						wcJobProf, wcConf).getDuration(), fast
+						.scheduleJobGetTime(submissionTime, wcJobProf, wcConf),
+						0.000001);
+			}
+
+			// The reset must bring both schedulers to the same state
+			fast.reset();
+			full.reset();
+			double wcTime = fast.scheduleJobGetTime(submissionTime, wcJobProf,
+					wcConf);
+			assertEquals(full.scheduleJobGetJobInfo(submissionTime,
+					wcJobProf, wcConf).getDuration(), wcTime, 0.000001);
+			if (ignore == 0)
+				assertEquals(74271.0, wcTime, 0.000001);
+
+			// The slot state left by the fast path matches the full schedule
+			assertEquals(full.scheduleJobGetJobInfo(submissionTime,
+					tsJobProf, tsConf).getDuration(), fast
+					.scheduleJobGetJobInfo(submissionTime, tsJobProf, tsConf)
+					.getDuration());
+		}
+	}
+
+}
@@ -0,0 +1,345 @@
+package edu.duke.starfish.whatif.junit;
+
+import java.util.Date;
+
+import junit.framework.TestCase;
+
+import org.apache.hadoop.conf.Configuration;
+import org.junit.Test;
+
+import edu.duke.starfish.profile.profileinfo.ClusterConfiguration;
+import edu.duke.starfish.profile.profileinfo.execution.DataLocality;
+import edu.duke.starfish.profile.profileinfo.execution.jobs.MRJobInfo;
+import edu.duke.starfish.profile.profileinfo.execution.mrtasks.MRCleanupInfo;
+import edu.duke.starfish.profile.profileinfo.execution.mrtasks.MRMapInfo;
+import edu.duke.starfish.profile.profileinfo.execution.mrtasks.MRReduceInfo;
+import edu.duke.starfish.profile.profileinfo.execution.profile.MRJobProfile;
+import edu.duke.starfish.whatif.data.JobParameters;
+import edu.duke.starfish.whatif.oracle.JobProfileOracle;
+import edu.duke.starfish.whatif.scheduler.CapacitySchedulingPolicy;
+import edu.duke.starfish.whatif.scheduler.EventDrivenScheduler;
+import edu.duke.starfish.whatif.scheduler.FIFOSchedulingPolicy;
+import edu.duke.starfish.whatif.scheduler.FairSchedulingPolicy;
+import edu.duke.starfish.whatif.scheduler.ISchedulingPolicy;
+import edu.duke.starfish.whatif.virtualfs.VirtualFSDataSetModel;
+import edu.duke.starfish.whatif.virtualfs.VirtualFileSystem;
+import edu.duke.starfish.whatif.virtualfs.VirtualFileSystem.VirtualFSException;
+
+/**
+ * Test the EventDrivenScheduler
+ * 
+ * @author hero
+ */
+public class TestEventDrivenScheduler extends TestCase {
+
+	/**
+	 * Test method for
+	 * {@link EventDrivenScheduler#scheduleJobGetJobInfo(Date, MRJobProfile, JobParameters)}
+	 */
+	@Test
+	public void testScheduleJobGetJobInfo() {
+		ClusterConfiguration cluster = SampleProfiles.getClusterConfiguration();
+		EventDrivenScheduler scheduler = new EventDrivenScheduler(cluster,
+				new FIFOSchedulingPolicy());
+		Date submissionTime = new Date(1000000l);
+
+		Configuration wcConf = getWordCountConfiguration(15);
+		MRJobProfile wcProf = getWordCountProfile(wcConf);
+		JobParameters wcParams = new JobParameters(wcConf);
+
+		// The job runs alone on the empty cluster
+		scheduler.checkpoint();
+		MRJobInfo job = scheduler.scheduleJobGetJobInfo(submissionTime,
+				wcProf, wcParams);
+		assertEquals(1, job.getSetupTasks().size());
+		assertEquals(1, job.getCleanupTasks().size());
+		assertEquals(15, job.getMapTasks().size());
+		assertEquals(wcParams.getNumReducers(), job.getReduceTasks().size());
+
+		// The setup runs first, the cleanup last, and the shuffle ends after
+		// the last map task
+		long setupEnd = job.getSetupTasks().get(0).getEndTime().getTime();
+		long lastMapEnd = 0l;
+		for (MRMapInfo map : job.getMapTasks()) {
+			assertTrue(map.getStartTime().getTime() >= setupEnd);
+			lastMapEnd = Math.max(lastMapEnd, map.getEndTime().getTime());
+		}
+		long lastRedEnd = 0l;
+		for (MRReduceInfo red : job.getReduceTasks()) {
+			long shuffleEnd = red.getAttempts().get(0).getShuffleEndTime()
+					.getTime();
+			assertTrue(shuffleEnd >= lastMapEnd);
+			lastRedEnd = Math.max(lastRedEnd, red.getEndTime().getTime());
+		}
+		MRCleanupInfo cleanup = job.getCleanupTasks().get(0);
+		assertTrue(cleanup.getStartTime().getTime() >= lastRedEnd);
+		assertTrue(job.getEndTime().getTime() >= cleanup.getEndTime()
+				.getTime());
+
+		// All the methods agree, after a reset and on a copy
+		scheduler.reset();
+		assertEquals(job.getDuration(), scheduler.scheduleJobGetTime(
+				submissionTime, wcProf, wcParams), 0.000001);
+		scheduler.reset();
+		assertEquals(job.getEndTime(), scheduler.scheduleJobGetEndTime(
+				submissionTime, wcProf, wcParams));
+		EventDrivenScheduler copy = (EventDrivenScheduler) scheduler.copy();
+		copy.reset();
+		assertEquals(job.getDuration(), copy.scheduleJobGetTime(
+				submissionTime, wcProf, wcParams), 0.000001);
+		assertEquals(1, copy.getNumJobs());
+	}
+
+	/**
+	 * Test method for
+	 * {@link EventDrivenScheduler#submitJob(Date, MRJobProfile, JobParameters)}
+	 */
+	@Test
+	public void testBackgroundWorkload() {
+		ClusterConfiguration cluster = SampleProfiles.getClusterConfiguration();
+		Date submissionTime = new Date(1000000l);
+		Configuration wcConf = getWordCountConfiguration(15);
+		MRJobProfile wcProf = getWordCountProfile(wcConf);
+		JobParameters wcParams = new JobParameters(wcConf);
+
+		// The time of the job on an empty cluster
+		EventDrivenScheduler scheduler = new EventDrivenScheduler(cluster,
+				new FIFOSchedulingPolicy());
+		scheduler.checkpoint();
+		double emptyTime = scheduler.scheduleJobGetTime(submissionTime,
+				wcProf, wcParams);
+
+		// A large job submitted earlier delays the job
+		Configuration bgConf = getWordCountConfiguration(200);
+		scheduler.reset();
+		scheduler.submitJob(new Date(submissionTime.getTime() - 10000l),
+				getWordCountProfile(bgConf), new JobParameters(bgConf));
+		scheduler.checkpoint();
+		double peakTime = scheduler.scheduleJobGetTime(submissionTime, wcProf,
+				wcParams);
+		assertTrue(peakTime > emptyTime);
+
+		// With FIFO, a job submitted later delays the job much less
+		EventDrivenScheduler later = new EventDrivenScheduler(cluster,
+				new FIFOSchedulingPolicy());
+		later.submitJob(new Date(submissionTime.getTime() + 1000l),
+				getWordCountProfile(bgConf), new JobParameters(bgConf));
+		double laterTime = later.scheduleJobGetTime(submissionTime, wcProf,
+				wcParams);
+		assertTrue(laterTime >= emptyTime);
+		assertTrue(laterTime < peakTime);
+	}
+
+	/**
+	 * Test method for {@link FairSchedulingPolicy} and
+	 * {@link CapacitySchedulingPolicy}
+	 */
+	@Test
+	public void testSchedulingPolicies() {
+		Date submissionTime = new Date(1000000l);
+		Configuration wcConf = getWordCountConfiguration(15);
+		wcConf.set("user.name", "alice");
+		wcConf.set("mapred.job.queue.name", "prod");
+		Configuration bgConf = getWordCountConfiguration(200);
+		bgConf.set("user.name", "bob");
+
+		// FIFO
+		double fifoTime = getTimeAfterBackgroundJob(
+				new FIFOSchedulingPolicy(), submissionTime, wcConf, bgConf);
+
+		// Fair: the small job gets its share while the large job runs
+		double fairTime = getTimeAfterBackgroundJob(
+				new FairSchedulingPolicy(), submissionTime, wcConf, bgConf);
+		assertTrue(fairTime < fifoTime);
+
+		// The pool is the user name unless it is set explicitly
+		FairSchedulingPolicy fair = new FairSchedulingPolicy();
+		assertEquals("alice", fair.getJobGroup(wcConf));
+		wcConf.set("mapred.fairscheduler.pool", "bob");
+		assertEquals("bob", fair.getJobGroup(wcConf));
+
+		// Capacity: the production queue gets most of the cluster
+		Configuration capConf = new Configuration(false);
+		capConf.setFloat("mapred.capacity-scheduler.queue.prod.capacity", 80f);
+		capConf.setFloat("mapred.capacity-scheduler.queue.default.capacity",
+				20f);
+		CapacitySchedulingPolicy capacity = new CapacitySchedulingPolicy(
+				capConf);
+		assertEquals(80f, capacity.getQueueCapacity("prod"));
+		assertEquals(-1f, capacity.getQueueMaxCapacity("prod"));
+		double capTime = getTimeAfterBackgroundJob(capacity, submissionTime,
+				wcConf, bgConf);
+		assertTrue(capTime < fifoTime);
+
+		try {
+			capacity.setQueueCapacity("other", 50f);
+			fail();
+		} catch (RuntimeException e) {
+			assertTrue(e.getMessage().startsWith("ERROR"));
+		}
+	}
+
+	/**
+	 * Test method for {@link EventDrivenScheduler#setLocalityAware(boolean)}
+	 */
+	@Test
+	public void testLocalityAwarePlacement() {
+		ClusterConfiguration cluster = ClusterConfiguration
+				.createClusterConfiguration("test", 3, 5, 2, 2, 200l << 20);
+		Date submissionTime = new Date(1000000l);
+		Configuration wcConf = getWordCountConfiguration(60);
+		MRJobProfile wcProf = getWordCountProfile(wcConf);
+		JobParameters wcParams = new JobParameters(wcConf);
+
+		// By default, all the maps are data local
+		EventDrivenScheduler scheduler = new EventDrivenScheduler(cluster,
+				new FIFOSchedulingPolicy());
+		assertFalse(scheduler.isLocalityAware());
+		MRJobInfo job = scheduler.scheduleJobGetJobInfo(submissionTime,
+				wcProf, wcParams);
+		assertEquals(60, countMaps(job, DataLocality.DATA_LOCAL));
+		double defaultTime = job.getDuration();
+
+		// With one replica per block, some maps read remote data
+		wcConf.setInt("dfs.replication", 1);
+		wcParams = new JobParameters(wcConf);
+		scheduler = new EventDrivenScheduler(cluster,
+				new FIFOSchedulingPolicy());
+		scheduler.setLocalityAware(true);
+		scheduler.setRackOversubscription(10d);
+		scheduler.checkpoint();
+		job = scheduler.scheduleJobGetJobInfo(submissionTime, wcProf,
+				wcParams);
+		assertEquals(60, job.getMapTasks().size());
+		assertTrue(countMaps(job, DataLocality.DATA_LOCAL) > 0);
+		assertTrue(countMaps(job, DataLocality.RACK_LOCAL) > 0);
+		assertTrue(countMaps(job, DataLocality.NON_LOCAL) > 0);
+		assertTrue(job.getDuration() > defaultTime);
+
+		// Remote reads take longer, and off-rack reads take the longest
+		long rackMin = getMinDuration(job, DataLocality.RACK_LOCAL);
+		long rackMax = getMaxDuration(job, DataLocality.RACK_LOCAL);
+		assertTrue(getMaxDuration(job, DataLocality.DATA_LOCAL) < rackMin);
+		assertTrue(rackMax < getMinDuration(job, DataLocality.NON_LOCAL));
+
+		// The placement is the same on a copy
+		EventDrivenScheduler copy = (EventDrivenScheduler) scheduler.copy();
+		copy.reset();
+		assertEquals(job.getDuration(), copy.scheduleJobGetTime(
+				submissionTime, wcProf, wcParams), 0.000001);
+
+		// All the maps are data local when every host has all the blocks
+		VirtualFileSystem vfs = new VirtualFileSystem();
+		try {
+			vfs.createFile("/input/words.txt", 60l << 26, false, 1l << 26,
+					15);
+		} catch (VirtualFSException e) {
+			fail(e.getMessage());
+		}
+		VirtualFSDataSetModel.setVirtualInputPaths(wcConf, "/input");
+		scheduler.reset();
+		scheduler.setVirtualFileSystem(vfs);
+		job = scheduler.scheduleJobGetJobInfo(submissionTime, wcProf,
+				new JobParameters(wcConf));
+		assertEquals(60, countMaps(job, DataLocality.DATA_LOCAL));
+		assertEquals(defaultTime, job.getDuration(), 0.000001);
+
+		try {
+			scheduler.setRackOversubscription(0.5d);
+			fail();
+		} catch (RuntimeException e) {
+			assertTrue(e.getMessage().startsWith("ERROR"));
+		}
+	}
+
+	/**
+	 * @param job
+	 *            the job execution
+	 * @param locality
+	 *            the data locality
+	 * @return the number of map tasks with the data locality
+	 */
+	private int countMaps(MRJobInfo job, DataLocality locality) {
+		int count = 0;
+		for (MRMapInfo map : job.getMapTasks())
+			if (map.getAttempts().get(0).getDataLocality() == locality)
+				++count;
+		return count;
+	}
+
+	/**
+	 * @param job
+	 *            the job execution
+	 * @param locality
+	 *            the data locality
+	 * @return the longest duration of the map tasks with the data locality
+	 */
+	private long getMaxDuration(MRJobInfo job, DataLocality locality) {
+		long max = Long.MIN_VALUE;
+		for (MRMapInfo map : job.getMapTasks())
+			if (map.getAttempts().get(0).getDataLocality() == locality)
+				max = Math.max(max, map.getDuration());
+		return max;
+	}
+
+	/**
+	 * @param job
+	 *            the job execution
+	 * @param locality
+	 *            the data locality
+	 * @return the shortest duration of the map tasks with the data locality
+	 */
+	private long getMinDuration(MRJobInfo job, DataLocality locality) {
+		long min = Long.MAX_VALUE;
+		for (MRMapInfo map : job.getMapTasks())
+			if (map.getAttempts().get(0).getDataLocality() == locality)
+				min = Math.min(min, map.getDuration());
+		return min;
+	}
+
+	/**
+	 * @param policy
+	 *            the scheduling policy
+	 * @param submissionTime
+	 *            the submission time of the job
+	 * @param conf
+	 *            the job configuration
+	 * @param bgConf
+	 *            the configuration of a job submitted 10 seconds earlier
+	 * @return the execution time of the job
+	 */
+	private double getTimeAfterBackgroundJob(ISchedulingPolicy policy,
+			Date submissionTime, Configuration conf, Configuration bgConf) {
+		EventDrivenScheduler scheduler = new EventDrivenScheduler(
+				SampleProfiles.getClusterConfiguration(), policy);
+		scheduler.submitJob(new Date(submissionTime.getTime() - 10000l),
+				getWordCountProfile(bgConf), new JobParameters(bgConf));
+		return scheduler.scheduleJobGetTime(submissionTime,
+				getWordCountProfile(conf), new JobParameters(conf));
+	}
+
+	/**
+	 * @param numMappers
+	 *            the number of map tasks
+	 * @return a word count configuration
+	 */
+	private Configuration getWordCountConfiguration(int numMappers) {
+		Configuration conf = SampleProfiles.getWordCountConfiguration();
+		conf.setInt(SampleDataSetModel.NUM_MAPPERS, numMappers);
+		conf.setLong(SampleDataSetModel.INPUT_SIZE, 1416850l * numMappers);
+		conf.setBoolean(SampleDataSetModel.INPUT_COMPR, false);
+		return conf;
+	}
+
+	/**
+	 * @param conf
+	 *            the job configuration
+	 * @return the virtual word count profile
+	 */
+	private MRJobProfile getWordCountProfile(Configuration conf) {
+		JobProfileOracle oracle = new JobProfileOracle(SampleProfiles
+				.getWordCountJobProfile());
+		return oracle.whatif(conf, new SampleDataSetModel());
+	}
+
+}
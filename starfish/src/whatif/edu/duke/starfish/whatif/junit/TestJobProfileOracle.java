@@ -1,11 +1,15 @@
 package edu.duke.starfish.whatif.junit;
 
+import static edu.duke.starfish.profile.utils.Constants.MR_SHUFFLE_MERGE_PERC;
+import static edu.duke.starfish.profile.utils.Constants.MR_SORT_MB;
+
 import junit.framework.TestCase;
 
 import org.apache.hadoop.conf.Configuration;
 import org.junit.Test;
 
 import edu.duke.starfish.profile.profileinfo.execution.profile.MRJobProfile;
+import edu.duke.starfish.whatif.data.JobParameters;
 import edu.duke.starfish.whatif.oracle.JobProfileOracle;
 
 public class TestJobProfileOracle extends TestCase {
@@ -62,4 +66,89 @@ public class TestJobProfileOracle extends TestCase {
 		assertTrue(wcVirtual.equals(wcVirtual2));
 	}
 
+	/**
+	 * Test that caching the task predictions in
+	 * {@link edu.duke.starfish.whatif.oracle.JobProfileOracle#whatif(Configuration, edu.duke.starfish.whatif.data.DataSetModel)}
+	 * does not change the virtual profiles
+	 */
+	@Test
+	public void testWhatifCache() {
+		MRJobProfile tsJobProf = SampleProfiles.getTeraSortJobProfile();
+		Configuration tsConf = SampleProfiles.getTeraSortConfiguration();
+		SampleDataSetModel model = new SampleDataSetModel();
+
+		// Set the input specs
+		tsConf.setInt(SampleDataSetModel.NUM_MAPPERS, 5);
+		tsConf.setLong(SampleDataSetModel.INPUT_SIZE, 20000000l);
+		tsConf.setBoolean(SampleDataSetModel.INPUT_COMPR, false);
+
+		JobProfileOracle cached = new JobProfileOracle(tsJobProf);
+		JobProfileOracle uncached = new JobProfileOracle(tsJobProf);
+		uncached.setCacheCapacity(0);
+
+		// Change a reduce-side setting only
+		for (int i = 0; i < 3; ++i) {
+			tsConf.setFloat(MR_SHUFFLE_MERGE_PERC, 0.3f + 0.2f * i);
+			assertEquals(uncached.whatif(tsConf, model), cached.whatif(tsConf,
+					model));
+		}
+		assertEquals(2, cached.getMapCache().getHits());
+		assertEquals(1, cached.getMapCache().getMisses());
+		assertEquals(0, cached.getReduceCache().getHits());
+		assertEquals(3, cached.getReduceCache().getMisses());
+
+		// Change a map-side setting only
+		for (int i = 0; i < 3; ++i) {
+			tsConf.setInt(MR_SORT_MB, 60 + 10 * i);
+			assertEquals(uncached.whatif(tsConf, model), cached.whatif(tsConf,
+					model));
+		}
+		assertEquals(2, cached.getMapCache().getHits());
+		assertEquals(4, cached.getMapCache().getMisses());
+
+		// Repeat a previous configuration
+		tsConf.setFloat(MR_SHUFFLE_MERGE_PERC, 0.3f);
+		tsConf.setInt(MR_SORT_MB, 60);
+		assertEquals(uncached.whatif(tsConf, model), cached.whatif(tsConf,
+				model));
+		assertEquals(3, cached.getMapCache().getHits());
+		assertEquals(0, uncached.getMapCache().getHits());
+	}
+
+	/**
+	 * Test that asking the questions with typed parameters, which generate
+	 * the input specs only once, gives the same virtual profiles as asking
+	 * them with the configuration
+	 */
+	@Test
+	public void testWhatifParameters() {
+		MRJobProfile wcJobProf = SampleProfiles.getWordCountJobProfile();
+		Configuration wcConf = SampleProfiles.getWordCountConfiguration();
+		SampleDataSetModel model = new SampleDataSetModel();
+
+		// Set the input specs
+		wcConf.setInt(SampleDataSetModel.NUM_MAPPERS, 15);
+		wcConf.setLong(SampleDataSetModel.INPUT_SIZE, 21252750l);
+		wcConf.setBoolean(SampleDataSetModel.INPUT_COMPR, false);
+
+		JobProfileOracle oracle = new JobProfileOracle(wcJobProf);
+		oracle.setCacheCapacity(0);
+		JobParameters params = new JobParameters(wcConf);
+
+		for (int i = 0; i < 3; ++i) {
+			params.setSortMB(60 + 10 * i);
+			wcConf.setInt(MR_SORT_MB, 60 + 10 * i);
+			assertEquals(oracle.whatif(wcConf, model), oracle.whatif(params,
+					model));
+		}
+
+		// The input specs are cached per data set model
+		assertSame(params.getMapInputSpecs(model), params
+				.getMapInputSpecs(model));
+		assertSame(params.getMapInputSpecs(model), new JobParameters(params)
+				.getMapInputSpecs(model));
+		assertNotSame(params.getMapInputSpecs(model), params
+				.getMapInputSpecs(new SampleDataSetModel()));
+	}
+
 }
@@ -1,5 +1,7 @@
 package edu.duke.starfish.whatif.junit;
 
+import java.util.Random;
+
 import junit.framework.TestCase;
 
 import org.junit.Test;
@@ -72,6 +74,68 @@ public class TestMergeSimulator extends TestCase {
 		assertEquals(72, merger.getCombineOutRecs());
 	}
 
+	/**
+	 * Test that the run-length {@link MergeSimulator} produces the same
+	 * counters as the {@link SegmentMergeSimulator} that keeps one object per
+	 * segment, for random inputs.
+	 */
+	@Test
+	public void testSimulateMergeRandomized() {
+
+		Random random = new Random(23);
+		for (int test = 0; test < 2000; ++test) {
+			MergeSimulator merger = new MergeSimulator();
+			SegmentMergeSimulator reference = new SegmentMergeSimulator();
+
+			// Add a few groups of segments with random sizes. Some tests use
+			// only a few distinct sizes, so that equally sized segments with
+			// different number of records are merged as well.
+			int numGroups = 1 + random.nextInt(3);
+			int maxSize = (test % 4 == 0) ? 3 : 100000000;
+			for (int g = 0; g < numGroups; ++g) {
+				long count = random.nextInt(test < 1900 ? 200 : 20000);
+				long size = 1 + random.nextInt(maxSize);
+				long recs = 1 + random.nextInt(1000000);
+				merger.addSegments(count, size, recs);
+				reference.addSegments(count, size, recs);
+			}
+
+			// Add memory segments and a combiner sometimes
+			if (random.nextBoolean()) {
+				long count = random.nextInt(50);
+				long size = 1 + random.nextInt(100000000);
+				long recs = 1 + random.nextInt(1000000);
+				merger.addMemSegments(count, size, recs);
+				reference.addMemSegments(count, size, recs);
+			}
+			if (random.nextBoolean()) {
+				int numSpills = 1 + random.nextInt(5);
+				double sizeSel = random.nextDouble() * 10;
+				double recSel = random.nextDouble() * 10;
+				merger.enableCombiner(numSpills, sizeSel, recSel);
+				reference.enableCombiner(numSpills, sizeSel, recSel);
+			}
+
+			int factor = 2 + random.nextInt(30);
+			boolean skipFinalMerge = random.nextBoolean();
+			merger.simulateMerge(factor, skipFinalMerge);
+			reference.simulateMerge(factor, skipFinalMerge);
+
+			assertEquals(reference.getNumMergePasses(), merger
+					.getNumMergePasses());
+			assertEquals(reference.getBytesRead(), merger.getBytesRead());
+			assertEquals(reference.getBytesWritten(), merger.getBytesWritten());
+			assertEquals(reference.getMergedRecords(), merger
+					.getMergedRecords());
+			assertEquals(reference.getSpilledRecords(), merger
+					.getSpilledRecords());
+			assertEquals(reference.getCombineInRecs(), merger
+					.getCombineInRecs());
+			assertEquals(reference.getCombineOutRecs(), merger
+					.getCombineOutRecs());
+		}
+	}
+
 	private static long getNumIntermSpillReads(long numSpills, long sortFactor) {
 
 		if (numSpills <= sortFactor)
@@ -0,0 +1,210 @@
+package edu.duke.starfish.whatif.junit;
+
+import static edu.duke.starfish.profile.utils.Constants.MR_RED_TASKS;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import junit.framework.TestCase;
+
+import org.apache.hadoop.conf.Configuration;
+import org.junit.Test;
+
+import edu.duke.starfish.profile.profileinfo.execution.DataLocality;
+import edu.duke.starfish.profile.profileinfo.execution.MRExecutionStatus;
+import edu.duke.starfish.profile.profileinfo.execution.jobs.MRJobInfo;
+import edu.duke.starfish.profile.profileinfo.execution.mrtaskattempts.MRMapAttemptInfo;
+import edu.duke.starfish.profile.profileinfo.execution.mrtaskattempts.MRReduceAttemptInfo;
+import edu.duke.starfish.profile.profileinfo.execution.mrtasks.MRReduceInfo;
+import edu.duke.starfish.profile.profileinfo.execution.profile.MRJobProfile;
+import edu.duke.starfish.profile.profileinfo.execution.profile.MRReduceProfile;
+import edu.duke.starfish.profile.profileinfo.execution.profile.enums.MRCounter;
+import edu.duke.starfish.profile.profileinfo.metrics.DataTransfer;
+import edu.duke.starfish.whatif.data.ReduceShuffleSpecs;
+import edu.duke.starfish.whatif.data.ReduceSkewModel;
+import edu.duke.starfish.whatif.oracle.JobProfileOracle;
+import edu.duke.starfish.whatif.scheduler.BasicFIFOScheduler;
+
+/**
+ * Test the ReduceSkewModel
+ * 
+ * @author hero
+ */
+public class TestReduceSkewModel extends TestCase {
+
+	/**
+	 * Test method for {@link ReduceSkewModel#getReducerRatios(int)}
+	 */
+	@Test
+	public void testGetReducerRatios() {
+		double[] sizes = { 100, 100, 400, 100, 100, 100, 100, 100, 100, 100 };
+		ReduceSkewModel skew = new ReduceSkewModel(sizes, 8);
+		assertEquals(10, skew.getNumSourceReducers());
+
+		// Same number of reducers: the source distribution
+		double[] ratios = skew.getReducerRatios(10);
+		assertEquals(4000d / 1300d, ratios[0], 0.000001);
+		for (int i = 1; i < 10; ++i)
+			assertEquals(1000d / 1300d, ratios[i], 0.000001);
+		assertEquals(10d, sum(ratios), 0.000001);
+
+		// More reducers: the large reducers stand out more
+		double[] moreRatios = skew.getReducerRatios(40);
+		assertEquals(40, moreRatios.length);
+		assertEquals(40d, sum(moreRatios), 0.000001);
+		assertTrue(moreRatios[0] > ratios[0]);
+
+		// Fewer reducers: the skew is smaller
+		double[] fewerRatios = skew.getReducerRatios(5);
+		assertEquals(5d, sum(fewerRatios), 0.000001);
+		assertTrue(fewerRatios[0] < ratios[0]);
+		for (int i = 1; i < 5; ++i)
+			assertTrue(fewerRatios[i] <= fewerRatios[i - 1]);
+	}
+
+	/**
+	 * Test method for {@link ReduceSkewModel#applySkew(List)}
+	 */
+	@Test
+	public void testApplySkew() {
+		double[] sizes = { 100, 100, 400, 100, 100, 100, 100, 100, 100, 100 };
+		ReduceSkewModel skew = new ReduceSkewModel(sizes, 8);
+
+		List<ReduceShuffleSpecs> specs = new ArrayList<ReduceShuffleSpecs>();
+		specs.add(new ReduceShuffleSpecs(15, 10, 1300000l, 13000l));
+		List<ReduceShuffleSpecs> skewed = skew.applySkew(specs);
+
+		// One bucket with the large reducer and one with the rest
+		assertEquals(2, skewed.size());
+		assertEquals(1, skewed.get(0).getNumReducers());
+		assertEquals(4000000l, skewed.get(0).getSize());
+		assertEquals(40000l, skewed.get(0).getRecords());
+		assertEquals(9, skewed.get(1).getNumReducers());
+		assertEquals(1000000l, skewed.get(1).getSize());
+		assertEquals(15, skewed.get(1).getNumMappers());
+
+		// Many reducers fit in the max number of buckets
+		specs.get(0).setNumReducers(100);
+		skewed = skew.applySkew(specs);
+		assertTrue(skewed.size() <= 8);
+		int numReducers = 0;
+		double total = 0d;
+		for (ReduceShuffleSpecs spec : skewed) {
+			numReducers += spec.getNumReducers();
+			total += spec.getNumReducers() * spec.getSize();
+		}
+		assertEquals(100, numReducers);
+		assertEquals(100 * 1300000d, total, 100d);
+
+		// No skew
+		skew = new ReduceSkewModel(new double[] { 5, 5, 5 }, 8);
+		skewed = skew.applySkew(specs);
+		assertEquals(1, skewed.size());
+		assertEquals(specs.get(0), skewed.get(0));
+	}
+
+	/**
+	 * Test method for {@link ReduceSkewModel#createFromTransfers(MRJobInfo)}
+	 */
+	@Test
+	public void testCreateFromTransfers() {
+		// A single reducer has no skew
+		assertNull(ReduceSkewModel.createFromTransfers(getSkewedJobInfo(1)));
+
+		// The source profile has a single averaged reducer, so the skew
+		// comes from the data transfers only
+		MRJobProfile sourceProf = SampleProfiles.getWordCountJobProfile();
+		assertEquals(1, sourceProf.getReduceProfiles().size());
+		ReduceSkewModel skew = ReduceSkewModel
+				.createFromTransfers(getSkewedJobInfo(4));
+		assertEquals(4, skew.getNumSourceReducers());
+		double[] ratios = skew.getReducerRatios(4);
+		assertEquals(4 * ratios[1], ratios[0], 1e-9);
+
+		Configuration conf = SampleProfiles.getWordCountConfiguration();
+		conf.setInt(SampleDataSetModel.NUM_MAPPERS, 15);
+		conf.setLong(SampleDataSetModel.INPUT_SIZE, 21252750l);
+		conf.setBoolean(SampleDataSetModel.INPUT_COMPR, false);
+		conf.setInt(MR_RED_TASKS, 4);
+
+		// The oracle assumes no skew unless a skew model is set
+		JobProfileOracle oracle = new JobProfileOracle(sourceProf);
+		assertNull(oracle.getReduceSkewModel());
+		MRJobProfile uniformProf = oracle.whatif(conf,
+				new SampleDataSetModel());
+		assertEquals(1, uniformProf.getReduceProfiles().size());
+
+		// The oracle predicts the reducers in buckets
+		oracle.setReduceSkewModel(skew);
+		MRJobProfile virtualProf = oracle.whatif(conf,
+				new SampleDataSetModel());
+		List<MRReduceProfile> redProfs = virtualProf.getReduceProfiles();
+		assertEquals(2, redProfs.size());
+		assertEquals(1, redProfs.get(0).getNumTasks());
+		assertEquals(3, redProfs.get(1).getNumTasks());
+		long largeBytes = redProfs.get(0).getCounter(
+				MRCounter.REDUCE_SHUFFLE_BYTES);
+		long smallBytes = redProfs.get(1).getCounter(
+				MRCounter.REDUCE_SHUFFLE_BYTES);
+		assertTrue(largeBytes > smallBytes);
+
+		// The large reducer makes the job slower than the mean reducer
+		BasicFIFOScheduler scheduler = new BasicFIFOScheduler(SampleProfiles
+				.getClusterConfiguration());
+		Date submissionTime = new Date(1000000l);
+		double skewTime = scheduler.scheduleJobGetTime(submissionTime,
+				virtualProf, conf);
+		double uniformTime = scheduler.scheduleJobGetTime(submissionTime,
+				uniformProf, conf);
+		assertTrue(skewTime > uniformTime);
+	}
+
+	/**
+	 * @param numReducers
+	 *            the number of reducers
+	 * @return a job with 15 mappers and the given number of reducers, where
+	 *         the third reducer (if any) gets 4 times more data than the
+	 *         others
+	 */
+	private MRJobInfo getSkewedJobInfo(int numReducers) {
+		MRJobInfo job = new MRJobInfo();
+		Date date = new Date(1000000l);
+		List<MRReduceAttemptInfo> redAttempts = new ArrayList<MRReduceAttemptInfo>();
+		for (int r = 0; r < numReducers; ++r) {
+			MRReduceAttemptInfo attempt = new MRReduceAttemptInfo(r,
+					"attempt_r_" + r, date, date, MRExecutionStatus.SUCCESS,
+					null, null, date, date);
+			MRReduceInfo task = new MRReduceInfo();
+			task.addAttempt(attempt);
+			job.addReduceTaskInfo(task);
+			redAttempts.add(attempt);
+		}
+
+		for (int m = 0; m < 15; ++m) {
+			MRMapAttemptInfo attempt = new MRMapAttemptInfo(m, "attempt_m_"
+					+ m, date, date, MRExecutionStatus.SUCCESS, null, null,
+					DataLocality.DATA_LOCAL);
+			for (int r = 0; r < numReducers; ++r) {
+				long size = (r == 2) ? 400l : 100l;
+				job.addDataTransfer(new DataTransfer(attempt, redAttempts
+						.get(r), size, size));
+			}
+		}
+
+		return job;
+	}
+
+	/**
+	 * @param values
+	 *            the values
+	 * @return the sum of the values
+	 */
+	private static double sum(double[] values) {
+		double sum = 0d;
+		for (double value : values)
+			sum += value;
+		return sum;
+	}
+
+}
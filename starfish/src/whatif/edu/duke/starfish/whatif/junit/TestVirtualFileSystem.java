@@ -1,5 +1,6 @@
 package edu.duke.starfish.whatif.junit;
 
+import java.util.Arrays;
 import java.util.List;
 
 import junit.framework.TestCase;
@@ -7,7 +8,9 @@ import junit.framework.TestCase;
 import org.apache.hadoop.conf.Configuration;
 import org.junit.Test;
 
+import edu.duke.starfish.profile.profileinfo.ClusterConfiguration;
 import edu.duke.starfish.whatif.data.MapInputSpecs;
+import edu.duke.starfish.whatif.virtualfs.VirtualBlockPlacement;
 import edu.duke.starfish.whatif.virtualfs.VirtualFSDataSetModel;
 import edu.duke.starfish.whatif.virtualfs.VirtualFile;
 import edu.duke.starfish.whatif.virtualfs.VirtualFileSystem;
@@ -151,6 +154,83 @@ public class TestVirtualFileSystem extends TestCase {
 		}
 	}
 
+	@Test
+	public void testFileBlocks() {
+		VirtualFileSystem vfs = new VirtualFileSystem();
+
+		try {
+			// A petabyte file with 64MB blocks
+			long size = (1l << 50) + (5 << 20);
+			VirtualFile file = vfs.createFile("/dir_1/file11.txt", size,
+					false, 64 << 20, 3);
+			assertEquals((1 << 24) + 1, file.getNumBlocks());
+			assertEquals(file.getNumBlocks(), file.getBlocks().size());
+			assertEquals(64 << 20, file.getBlockSize(0));
+			assertEquals(5 << 20, file.getBlockSize(1 << 24));
+			assertEquals(5 << 20, file.getBlocks().get(1 << 24).getSize());
+
+			// An empty file has a single empty block
+			file = vfs.createFile("/dir_1/file12.txt", 0, false, 64 << 20, 3);
+			assertEquals(1, file.getNumBlocks());
+			assertEquals(0, file.getBlockSize(0));
+
+		} catch (VirtualFSException e) {
+			fail(e.getMessage());
+		}
+
+		Configuration conf = new Configuration(false);
+		conf.set(VirtualFSDataSetModel.VIRTUAL_INPUT_DIRS, "/dir_1/file11*");
+
+		VirtualFSDataSetModel model = new VirtualFSDataSetModel(vfs);
+		List<MapInputSpecs> specs = model.generateMapInputSpecs(conf);
+
+		assertEquals(2, specs.size());
+		assertEquals(1 << 24, specs.get(0).getNumSplits());
+		assertEquals(64 << 20, specs.get(0).getSize());
+		assertEquals(1, specs.get(1).getNumSplits());
+		assertEquals(5 << 20, specs.get(1).getSize());
+	}
+
+	@Test
+	public void testCreateAndDeleteFiles() {
+		VirtualFileSystem vfs = new VirtualFileSystem();
+
+		try {
+			for (int i = 0; i < 1000; ++i)
+				vfs.createFile("/dir_1/file" + i + ".txt", 1 << 20, false);
+			vfs.createFile("/dir_1/dir_1_1/file.txt", 1 << 20, false);
+
+			try {
+				vfs.createFile("/dir_1/file10.txt", 1 << 20, false);
+				fail();
+			} catch (VirtualFSException e) {
+				// The file already exists
+			}
+			try {
+				vfs.createFile("/dir_1/file10.txt/file.txt", 1 << 20, false);
+				fail();
+			} catch (VirtualFSException e) {
+				// The subpath is a file
+			}
+
+			assertTrue(vfs.containFiles("/dir_1/file999.txt"));
+			assertFalse(vfs.containFiles("/dir_1/file1000.txt"));
+			assertEquals(10, vfs.listFiles("/dir_1/file99?.txt", false).size());
+			assertEquals(1001, vfs.listFiles("/dir_1", true).size());
+
+			assertTrue(vfs.deleteFiles("/dir_1/file1??.txt", false));
+			assertEquals(900, vfs.listFiles("/dir_1", false).size());
+			assertEquals("/dir_1/file0.txt", vfs.listFiles("/dir_1", false)
+					.get(0).toString());
+
+			// Invalid globs are matched exactly
+			assertFalse(vfs.containFiles("/dir_1/file[1.txt"));
+
+		} catch (VirtualFSException e) {
+			fail(e.getMessage());
+		}
+	}
+
 	@Test
 	public void testVirtualAvgDataSetModel() {
 		VirtualFileSystem vfs = new VirtualFileSystem();
@@ -198,4 +278,47 @@ public class TestVirtualFileSystem extends TestCase {
 
 	}
 
+	@Test
+	public void testBlockPlacement() {
+		ClusterConfiguration cluster = ClusterConfiguration
+				.createClusterConfiguration("test", 3, 5, 2, 2, 200l << 20);
+		VirtualBlockPlacement placement = new VirtualBlockPlacement(cluster);
+		assertEquals(15, placement.getNumHosts());
+		assertEquals(3, placement.getNumRacks());
+
+		// The replicas follow the HDFS policy and the placement is fixed
+		for (int b = 0; b < 50; ++b) {
+			int[] hosts = placement.getReplicaHosts("/dir/file", b, 3);
+			assertEquals(3, hosts.length);
+			assertTrue(hosts[0] != hosts[1] && hosts[1] != hosts[2]
+					&& hosts[0] != hosts[2]);
+			assertTrue(placement.getRackIndex(hosts[0]) != placement
+					.getRackIndex(hosts[1]));
+			assertEquals(placement.getRackIndex(hosts[1]), placement
+					.getRackIndex(hosts[2]));
+			assertTrue(Arrays.equals(hosts, placement.getReplicaHosts(
+					"/dir/file", b, 3)));
+		}
+		assertEquals(15, placement.getReplicaHosts("/dir/file", 0, 20).length);
+		assertEquals(-1, placement.getHostIndex("unknown"));
+
+		// One split per block, the largest first
+		VirtualFileSystem vfs = new VirtualFileSystem();
+		try {
+			vfs.createFile("/dir_1/file11.txt", 100 << 20, false, 64 << 20, 2);
+			vfs.createFile("/dir_1/file12.gz", 80 << 20, true, 64 << 20, 3);
+		} catch (VirtualFSException e) {
+			fail(e.getMessage());
+		}
+
+		Configuration conf = new Configuration(false);
+		conf.set(VirtualFSDataSetModel.VIRTUAL_INPUT_DIRS, "/dir_1");
+		VirtualFSDataSetModel model = new VirtualFSDataSetModel(vfs);
+		List<int[]> splitHosts = model.generateSplitHosts(conf, placement);
+		assertEquals(3, splitHosts.size());
+		assertEquals(3, splitHosts.get(0).length);
+		assertEquals(2, splitHosts.get(1).length);
+		assertEquals(2, splitHosts.get(2).length);
+	}
+
 }
@@ -0,0 +1,217 @@
+package edu.duke.starfish.whatif.junit;
+
+import static edu.duke.starfish.profile.utils.Constants.DFS_BLOCK_SIZE;
+import static edu.duke.starfish.profile.utils.Constants.MR_INPUT_DIR;
+import static edu.duke.starfish.profile.utils.Constants.MR_INPUT_FORMAT_CLASS;
+import static edu.duke.starfish.profile.utils.Constants.MR_OUTPUT_DIR;
+import static edu.duke.starfish.profile.utils.Constants.MR_SFIF;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import junit.framework.TestCase;
+
+import org.apache.hadoop.conf.Configuration;
+import org.junit.Test;
+
+import edu.duke.starfish.profile.profileinfo.ClusterConfiguration;
+import edu.duke.starfish.profile.profileinfo.execution.DataLocality;
+import edu.duke.starfish.profile.profileinfo.execution.jobs.MRJobInfo;
+import edu.duke.starfish.whatif.WorkflowWhatIfEngine;
+import edu.duke.starfish.whatif.data.JobOutputSpecs;
+import edu.duke.starfish.whatif.data.MapInputSpecs;
+import edu.duke.starfish.whatif.data.WorkflowDataSetModel;
+import edu.duke.starfish.whatif.oracle.JobProfileOracle;
+import edu.duke.starfish.whatif.scheduler.BasicFIFOScheduler;
+
+/**
+ * Test the WorkflowWhatIfEngine
+ * 
+ * @author hero
+ */
+public class TestWorkflowWhatIfEngine extends TestCase {
+
+	/**
+	 * Test method for
+	 * {@link WorkflowWhatIfEngine#whatIfWorkflowGetJobInfos(Date)}
+	 */
+	@Test
+	public void testChainedJobs() {
+		ClusterConfiguration cluster = SampleProfiles.getClusterConfiguration();
+		BasicFIFOScheduler scheduler = new BasicFIFOScheduler(cluster);
+		WorkflowWhatIfEngine engine = createWorkflow(scheduler);
+		Date submissionTime = new Date();
+
+		// The WordCount job reads the output of the TeraSort job
+		assertEquals(2, engine.getNumJobs());
+		assertTrue(engine.getJobDependencies(0).isEmpty());
+		assertEquals(1, engine.getJobDependencies(1).size());
+		assertEquals(0, engine.getJobDependencies(1).get(0).intValue());
+
+		scheduler.checkpoint();
+		List<MRJobInfo> jobs = engine.whatIfWorkflowGetJobInfos(submissionTime);
+		assertEquals(2, jobs.size());
+
+		// The second job starts after the first one completes
+		MRJobInfo tsJob = jobs.get(0);
+		MRJobInfo wcJob = jobs.get(1);
+		assertFalse(wcJob.getStartTime().before(tsJob.getEndTime()));
+
+		// The second job reads the predicted output of the first job
+		List<JobOutputSpecs> outputSpecs = new SampleDataSetModel()
+				.generateJobOutputSpecs(engine.getJobConfiguration(0), tsJob
+						.getProfile());
+		List<MapInputSpecs> inputSpecs = new ArrayList<MapInputSpecs>();
+		WorkflowDataSetModel.addMapInputSpecs(inputSpecs, 0, outputSpecs,
+				engine.getJobConfiguration(1));
+		int numSplits = 0;
+		for (MapInputSpecs spec : inputSpecs)
+			numSplits += spec.getNumSplits();
+		assertEquals(numSplits, wcJob.getMapTasks().size());
+
+		// The fast path agrees with the full simulation
+		scheduler.reset();
+		assertEquals(wcJob.getEndTime().getTime() - submissionTime.getTime(),
+				engine.whatIfWorkflowGetTime(submissionTime), 0.000001);
+
+		// A copy of the engine predicts the same time
+		WorkflowWhatIfEngine copy = new WorkflowWhatIfEngine(engine);
+		copy.getScheduler().reset();
+		assertEquals(engine.whatIfWorkflowGetTime(submissionTime), copy
+				.whatIfWorkflowGetTime(submissionTime), 0.000001);
+	}
+
+	/**
+	 * Test method for {@link WorkflowWhatIfEngine#addDependency(int, int)}
+	 */
+	@Test
+	public void testIndependentJobs() {
+		ClusterConfiguration cluster = SampleProfiles.getClusterConfiguration();
+		BasicFIFOScheduler scheduler = new BasicFIFOScheduler(cluster);
+		WorkflowWhatIfEngine engine = createWorkflow(scheduler);
+		Date submissionTime = new Date();
+
+		// Read an external input instead
+		Configuration conf = new Configuration(engine.getJobConfiguration(1));
+		conf.set(MR_INPUT_DIR, "/user/hero/other/in");
+		WorkflowWhatIfEngine independent = new WorkflowWhatIfEngine(scheduler);
+		independent.addJob(new JobProfileOracle(engine.getJobOracle(0)),
+				new SampleDataSetModel(), engine.getJobConfiguration(0));
+		independent.addJob(new JobProfileOracle(engine.getJobOracle(1)),
+				new SampleDataSetModel(), conf);
+		assertTrue(independent.getJobDependencies(1).isEmpty());
+
+		// Both jobs are submitted at the same time and share the cluster
+		scheduler.checkpoint();
+		List<MRJobInfo> jobs = independent
+				.whatIfWorkflowGetJobInfos(submissionTime);
+		assertTrue(jobs.get(1).getStartTime().before(jobs.get(0).getEndTime()));
+		scheduler.reset();
+		double time = independent.whatIfWorkflowGetTime(submissionTime);
+
+		// An explicit dependency serializes the jobs
+		independent.addDependency(0, 1);
+		scheduler.reset();
+		assertTrue(independent.whatIfWorkflowGetTime(submissionTime) > time);
+
+		try {
+			independent.addDependency(1, 0);
+			fail();
+		} catch (RuntimeException e) {
+			assertTrue(e.getMessage().startsWith("ERROR"));
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link WorkflowDataSetModel#addMapInputSpecs(List, int, List, Configuration)}
+	 */
+	@Test
+	public void testAddMapInputSpecs() {
+		long mb = 1l << 20;
+		Configuration conf = new Configuration(false);
+		conf.setLong(DFS_BLOCK_SIZE, 64 * mb);
+
+		// Large files are split into blocks (with the last one up to 10% more)
+		List<MapInputSpecs> specs = new ArrayList<MapInputSpecs>();
+		WorkflowDataSetModel.addMapInputSpecs(specs, 1, toList(4, 150 * mb,
+				false), conf);
+		assertEquals(2, specs.size());
+		assertEquals(new MapInputSpecs(1, 8, 64 * mb, false,
+				DataLocality.DATA_LOCAL), specs.get(0));
+		assertEquals(new MapInputSpecs(1, 4, 22 * mb, false,
+				DataLocality.DATA_LOCAL), specs.get(1));
+
+		specs.clear();
+		WorkflowDataSetModel.addMapInputSpecs(specs, 0, toList(2, 70 * mb,
+				false), conf);
+		assertEquals(1, specs.size());
+		assertEquals(new MapInputSpecs(0, 2, 70 * mb, false,
+				DataLocality.DATA_LOCAL), specs.get(0));
+
+		// Compressed text files are not splittable, empty files are one split
+		specs.clear();
+		WorkflowDataSetModel.addMapInputSpecs(specs, 0, toList(3, 150 * mb,
+				true), conf);
+		WorkflowDataSetModel.addMapInputSpecs(specs, 0, toList(5, 0l, false),
+				conf);
+		assertEquals(2, specs.size());
+		assertEquals(new MapInputSpecs(0, 3, 150 * mb, true,
+				DataLocality.DATA_LOCAL), specs.get(0));
+		assertEquals(new MapInputSpecs(0, 5, 0l, false,
+				DataLocality.DATA_LOCAL), specs.get(1));
+
+		// Compressed sequence files are splittable
+		specs.clear();
+		conf.set(MR_INPUT_FORMAT_CLASS, MR_SFIF);
+		WorkflowDataSetModel.addMapInputSpecs(specs, 0, toList(1, 150 * mb,
+				true), conf);
+		assertEquals(2, specs.size());
+		assertEquals(2, specs.get(0).getNumSplits());
+	}
+
+	/**
+	 * Create a workflow where the WordCount job reads the output of the
+	 * TeraSort job
+	 * 
+	 * @param scheduler
+	 *            the scheduler
+	 * @return the workflow what-if engine
+	 */
+	private WorkflowWhatIfEngine createWorkflow(BasicFIFOScheduler scheduler) {
+		Configuration tsConf = SampleProfiles.getTeraSortConfiguration();
+		tsConf.set(MR_INPUT_DIR, "hdfs://localhost:9000/user/hero/tera/in");
+		tsConf.set(MR_OUTPUT_DIR, "hdfs://localhost:9000/user/hero/tera/out");
+		tsConf.setInt(SampleDataSetModel.NUM_MAPPERS, 5);
+		tsConf.setLong(SampleDataSetModel.INPUT_SIZE, 20000000l);
+
+		Configuration wcConf = SampleProfiles.getWordCountConfiguration();
+		wcConf.set(MR_INPUT_DIR, "/user/hero/tera/out/part-*");
+		wcConf.set(MR_OUTPUT_DIR, "/user/hero/wc/out");
+
+		WorkflowWhatIfEngine engine = new WorkflowWhatIfEngine(scheduler);
+		engine.addJob(new JobProfileOracle(SampleProfiles
+				.getTeraSortJobProfile()), new SampleDataSetModel(), tsConf);
+		engine.addJob(new JobProfileOracle(SampleProfiles
+				.getWordCountJobProfile()), new SampleDataSetModel(), wcConf);
+		return engine;
+	}
+
+	/**
+	 * @param numTasks
+	 *            the number of tasks
+	 * @param size
+	 *            the output size of each task
+	 * @param isCompressed
+	 *            whether the output is compressed
+	 * @return a list with the job output specs
+	 */
+	private List<JobOutputSpecs> toList(int numTasks, long size,
+			boolean isCompressed) {
+		List<JobOutputSpecs> specs = new ArrayList<JobOutputSpecs>(1);
+		specs.add(new JobOutputSpecs(numTasks, size, 0l, isCompressed));
+		return specs;
+	}
+
+}
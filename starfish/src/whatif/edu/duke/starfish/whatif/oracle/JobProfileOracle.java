@@ -1,7 +1,5 @@
 package edu.duke.starfish.whatif.oracle;
 
-import static edu.duke.starfish.profile.utils.Constants.MR_RED_TASKS;
-
 import java.util.ArrayList;
 import java.util.List;
 
@@ -11,15 +9,27 @@ import edu.duke.starfish.profile.profileinfo.execution.profile.MRJobProfile;
 import edu.duke.starfish.profile.profileinfo.execution.profile.MRMapProfile;
 import edu.duke.starfish.profile.profileinfo.execution.profile.MRReduceProfile;
 import edu.duke.starfish.profile.profileinfo.execution.profile.enums.MRCounter;
-import edu.duke.starfish.profile.utils.ProfileUtils;
 import edu.duke.starfish.whatif.data.DataSetModel;
+import edu.duke.starfish.whatif.data.JobParameters;
 import edu.duke.starfish.whatif.data.MapInputSpecs;
 import edu.duke.starfish.whatif.data.ReduceShuffleSpecs;
+import edu.duke.starfish.whatif.data.ReduceSkewModel;
+import edu.duke.starfish.whatif.oracle.TaskProfileOracle.PredictionKey;
 
 /**
  * This class is used to make predictions on how a job profile will change based
  * on a set of configuration settings.
  * 
+ * The map and reduce predictions are cached separately. A map prediction only
+ * depends on the input specs and the settings that the map oracle uses, and
+ * similarly for the reduce predictions. Hence, when only some of the settings
+ * change between two calls (e.g., while searching over the reduce-side
+ * parameters), the predictions of the unaffected tasks are reused.
+ * 
+ * If a skew model is set (see {@link ReduceSkewModel}), the reducers are
+ * predicted in buckets of similar shuffle sizes. Otherwise, all the reducers
+ * are assumed to receive the same amount of data.
+ * 
  * @author hero
  */
 public class JobProfileOracle {
@@ -31,26 +41,36 @@ public class JobProfileOracle {
 
 	private MRJobProfile sourceProf;// The source profile for the predictions
 	private MRJobProfile virtualProf; // Cache the last predicted profile
-	private Configuration conf; // Cache the last configuration
+	private String virtualJobId; // The job id of the virtual profiles
+	private JobParameters params; // Cache the last configuration parameters
 
 	private ArrayList<MapProfileOracle> mapOracles; // The map oracles
 	private ReduceProfileOracle redOracle; // The reduce oracle
+	private ReduceSkewModel skewModel; // The reducer skew (null for none)
 
 	private boolean ignoreReducers; // Flag to ignore reducers
 
+	// Caches with the map and reduce predictions
+	private PredictionCache<PredictionKey, MRMapProfile> mapCache;
+	private PredictionCache<PredictionKey, MRReduceProfile> redCache;
+
 	// Constants
 	private static final String VIRTUAL = "virtual_";
+	public static final int DEF_CACHE_CAPACITY = 1000;
 
 	/**
-	 * Constructor
+	 * Constructor. The source profile is treated as read-only from now on, and
+	 * it is marked as shared so that the virtual profiles can share its arrays.
 	 * 
 	 * @param sourceProf
 	 *            the source job profile
 	 */
 	public JobProfileOracle(MRJobProfile sourceProf) {
 		this.sourceProf = sourceProf;
+		sourceProf.markShared();
+		this.virtualJobId = VIRTUAL + sourceProf.getJobId();
 		this.virtualProf = null;
-		this.conf = null;
+		this.params = null;
 		this.ignoreReducers = false;
 
 		// Create the map oracles
@@ -62,6 +82,45 @@ public class JobProfileOracle {
 
 		// Create the reduce oracles
 		redOracle = new ReduceProfileOracle(sourceProf.getAvgReduceProfile());
+		skewModel = null;
+
+		// Create the prediction caches
+		mapCache = new PredictionCache<PredictionKey, MRMapProfile>(
+				DEF_CACHE_CAPACITY);
+		redCache = new PredictionCache<PredictionKey, MRReduceProfile>(
+				DEF_CACHE_CAPACITY);
+	}
+
+	/**
+	 * Copy constructor. The new oracle shares the (read-only) source profile
+	 * with the other oracle but gets its own task oracles and (empty) caches,
+	 * so the two oracles can make predictions concurrently.
+	 * 
+	 * @param other
+	 *            the job profile oracle to copy from
+	 */
+	public JobProfileOracle(JobProfileOracle other) {
+		this.sourceProf = other.sourceProf;
+		this.virtualJobId = VIRTUAL + sourceProf.getJobId();
+		this.virtualProf = null;
+		this.params = null;
+		this.ignoreReducers = other.ignoreReducers;
+
+		// Create the map oracles
+		mapOracles = new ArrayList<MapProfileOracle>(other.mapOracles.size());
+		for (MapProfileOracle mapOracle : other.mapOracles) {
+			mapOracles.add(new MapProfileOracle(mapOracle.getSourceProf()));
+		}
+
+		// Create the reduce oracles
+		redOracle = new ReduceProfileOracle(other.redOracle.getSourceProf());
+		skewModel = other.skewModel;
+
+		// Create the prediction caches
+		mapCache = new PredictionCache<PredictionKey, MRMapProfile>(
+				other.mapCache.getCapacity());
+		redCache = new PredictionCache<PredictionKey, MRReduceProfile>(
+				other.redCache.getCapacity());
 	}
 
 	/* ***************************************************************
@@ -77,6 +136,21 @@ public class JobProfileOracle {
 		this.ignoreReducers = ignoreReducers;
 	}
 
+	/**
+	 * @param skewModel
+	 *            the reducer skew model (null to assume no skew)
+	 */
+	public void setReduceSkewModel(ReduceSkewModel skewModel) {
+		this.skewModel = skewModel;
+	}
+
+	/**
+	 * @return the reducer skew model (null if there is no skew)
+	 */
+	public ReduceSkewModel getReduceSkewModel() {
+		return skewModel;
+	}
+
 	/**
 	 * @return the sourceProf
 	 */
@@ -84,6 +158,31 @@ public class JobProfileOracle {
 		return sourceProf;
 	}
 
+	/**
+	 * @return the cache with the map predictions
+	 */
+	public PredictionCache<PredictionKey, MRMapProfile> getMapCache() {
+		return mapCache;
+	}
+
+	/**
+	 * @return the cache with the reduce predictions
+	 */
+	public PredictionCache<PredictionKey, MRReduceProfile> getReduceCache() {
+		return redCache;
+	}
+
+	/**
+	 * Set the maximum number of map and reduce predictions to cache
+	 * 
+	 * @param capacity
+	 *            the cache capacity (0 disables caching)
+	 */
+	public void setCacheCapacity(int capacity) {
+		mapCache.setCapacity(capacity);
+		redCache.setCapacity(capacity);
+	}
+
 	/**
 	 * Generate and return a virtual job profile representing how the job will
 	 * behave under the provided configuration settings.
@@ -95,36 +194,52 @@ public class JobProfileOracle {
 	 * @return a virtual job profile
 	 */
 	public MRJobProfile whatif(Configuration conf, DataSetModel dataModel) {
-		this.virtualProf = new MRJobProfile(VIRTUAL + sourceProf.getJobId());
-		this.conf = conf;
+		return whatif(new JobParameters(conf), dataModel);
+	}
+
+	/**
+	 * Generate and return a virtual job profile representing how the job will
+	 * behave under the provided configuration parameters. The underlying
+	 * configuration of the parameters is only used for generating the input
+	 * specs, which are cached in the parameters, so the parameters can be
+	 * modified between calls without updating or reading the configuration.
+	 * 
+	 * @param params
+	 *            the configuration parameters
+	 * @param dataModel
+	 *            the data model that can reason about the data
+	 * @return a virtual job profile
+	 */
+	public MRJobProfile whatif(JobParameters params, DataSetModel dataModel) {
+		this.virtualProf = new MRJobProfile(virtualJobId);
+		this.params = params;
 
 		// Set the cluster name and job inputs
 		virtualProf.setClusterName(sourceProf.getClusterName());
-		virtualProf.setJobInputs(ProfileUtils.getInputDirs(conf));
+		virtualProf.setJobInputs(params.getInputDirs());
 
 		// Get the input specs
-		List<MapInputSpecs> inputSpecs = dataModel
-				.generateMapInputSpecs(this.conf);
+		List<MapInputSpecs> inputSpecs = params.getMapInputSpecs(dataModel);
 
 		// Predict the map execution
 		int numMappers = 0;
 		for (MapInputSpecs inputSpec : inputSpecs) {
-			MRMapProfile mapProf = mapOracles.get(inputSpec.getInputIndex())
-					.whatif(conf, inputSpec);
+			MRMapProfile mapProf = predictMap(mapOracles.get(inputSpec
+					.getInputIndex()), inputSpec);
 			numMappers += inputSpec.getNumSplits();
 			virtualProf.addMapProfile(mapProf);
 		}
 
 		// Predict the reduce execution
-		int numReducers = conf.getInt(MR_RED_TASKS, 1);
+		int numReducers = params.getNumReducers();
 		if (numReducers > 0 && !ignoreReducers) {
 			// Get the shuffle specs
 			List<ReduceShuffleSpecs> shuffleSpecs = dataModel
-					.generateReduceShuffleSpecs(conf,
-							virtualProf.getMapProfiles());
+					.generateReduceShuffleSpecs(numReducers, virtualProf
+							.getMapProfiles(), skewModel);
 
 			for (ReduceShuffleSpecs shuffleSpec : shuffleSpecs) {
-				MRReduceProfile redProf = redOracle.whatif(conf, shuffleSpec);
+				MRReduceProfile redProf = predictReduce(shuffleSpec);
 				virtualProf.addReduceProfile(redProf);
 			}
 		}
@@ -137,4 +252,60 @@ public class JobProfileOracle {
 		return virtualProf;
 	}
 
+	/* ***************************************************************
+	 * PRIVATE METHODS
+	 * ***************************************************************
+	 */
+
+	/**
+	 * Predict a virtual map profile using the cache. The virtual job profile
+	 * modifies its task profiles, so the cache stores and returns copies.
+	 * 
+	 * @param mapOracle
+	 *            the map oracle
+	 * @param inputSpec
+	 *            the input specs
+	 * @return a virtual map profile
+	 */
+	private MRMapProfile predictMap(MapProfileOracle mapOracle,
+			MapInputSpecs inputSpec) {
+
+		if (mapCache.getCapacity() == 0)
+			return mapOracle.whatif(params, inputSpec);
+
+		PredictionKey key = mapOracle.getPredictionKey(params, inputSpec);
+		MRMapProfile mapProf = mapCache.get(key);
+		if (mapProf != null)
+			return new MRMapProfile(mapProf);
+
+		mapProf = mapOracle.whatif(params, inputSpec);
+		mapProf.markShared();
+		mapCache.put(key, new MRMapProfile(mapProf));
+		return mapProf;
+	}
+
+	/**
+	 * Predict a virtual reduce profile using the cache. The virtual job profile
+	 * modifies its task profiles, so the cache stores and returns copies.
+	 * 
+	 * @param shuffleSpec
+	 *            the shuffle specs
+	 * @return a virtual reduce profile
+	 */
+	private MRReduceProfile predictReduce(ReduceShuffleSpecs shuffleSpec) {
+
+		if (redCache.getCapacity() == 0)
+			return redOracle.whatif(params, shuffleSpec);
+
+		PredictionKey key = redOracle.getPredictionKey(params, shuffleSpec);
+		MRReduceProfile redProf = redCache.get(key);
+		if (redProf != null)
+			return new MRReduceProfile(redProf);
+
+		redProf = redOracle.whatif(params, shuffleSpec);
+		redProf.markShared();
+		redCache.put(key, new MRReduceProfile(redProf));
+		return redProf;
+	}
+
 }
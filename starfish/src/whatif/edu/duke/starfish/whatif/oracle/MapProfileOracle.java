@@ -9,7 +9,7 @@ import edu.duke.starfish.profile.profileinfo.execution.profile.enums.MRCostFacto
 import edu.duke.starfish.profile.profileinfo.execution.profile.enums.MRCounter;
 import edu.duke.starfish.profile.profileinfo.execution.profile.enums.MRStatistics;
 import edu.duke.starfish.profile.profileinfo.execution.profile.enums.MRTaskPhase;
-import edu.duke.starfish.profile.utils.ProfileUtils;
+import edu.duke.starfish.whatif.data.JobParameters;
 import edu.duke.starfish.whatif.data.MapInputSpecs;
 
 /**
@@ -38,8 +38,9 @@ public class MapProfileOracle extends TaskProfileOracle {
 	 */
 
 	private MRMapProfile sourceProf; // The source profile for the predictions
+	private String virtualTaskId; // The task id of the virtual profiles
 	private MRMapProfile virtualProf; // Cache the last predicted profile
-	private Configuration conf; // Cache the last configuration
+	private JobParameters params; // Cache the last configuration parameters
 	private MapInputSpecs inputSpecs; // Cache the last input specs
 
 	// Cache some commonly used variables
@@ -65,8 +66,9 @@ public class MapProfileOracle extends TaskProfileOracle {
 	 */
 	public MapProfileOracle(MRMapProfile sourceProf) {
 		this.sourceProf = sourceProf;
+		this.virtualTaskId = getVirtualTaskId(sourceProf.getTaskId());
 		this.virtualProf = null;
-		this.conf = null;
+		this.params = null;
 		this.inputSpecs = null;
 	}
 
@@ -82,6 +84,51 @@ public class MapProfileOracle extends TaskProfileOracle {
 		return sourceProf;
 	}
 
+	/**
+	 * Build the key for caching the prediction of this oracle for the provided
+	 * configuration settings and input specifications. Two predictions with
+	 * equal keys are identical.
+	 * 
+	 * @param conf
+	 *            the configuration settings
+	 * @param inputSpecs
+	 *            the input specifications
+	 * @return the prediction key
+	 */
+	public PredictionKey getPredictionKey(Configuration conf,
+			MapInputSpecs inputSpecs) {
+		return getPredictionKey(new JobParameters(conf), inputSpecs);
+	}
+
+	/**
+	 * Build the key for caching the prediction of this oracle for the provided
+	 * configuration parameters and input specifications. Two predictions with
+	 * equal keys are identical.
+	 * 
+	 * @param params
+	 *            the configuration parameters
+	 * @param inputSpecs
+	 *            the input specifications
+	 * @return the prediction key
+	 */
+	public PredictionKey getPredictionKey(JobParameters params,
+			MapInputSpecs inputSpecs) {
+
+		// The output compression only matters for map-only jobs. The number
+		// of reducers is included since it effects the sort cost.
+		boolean outputCompr = params.getNumReducers() == 0
+				&& params.isOutputCompressionOn();
+
+		MapInputSpecs specs = new MapInputSpecs(inputSpecs.getInputIndex(),
+				inputSpecs.getNumSplits(), inputSpecs.getSize(), inputSpecs
+						.isCompressed(), inputSpecs.getLocality());
+		return buildPredictionKey(specs, params.getNumReducers(), params
+				.isCombinerUsed(), params.isCompressMapOut(), params
+				.getSortFactor(), params.getSortMB(), params.getSortRecPerc(),
+				params.getSpillPerc(), params.getNumSpillsForCombine(),
+				outputCompr);
+	}
+
 	/**
 	 * Generate and return a virtual map profile representing how the map will
 	 * behave under the provided configuration settings.
@@ -93,6 +140,22 @@ public class MapProfileOracle extends TaskProfileOracle {
 	 * @return a virtual map profile
 	 */
 	public MRMapProfile whatif(Configuration conf, MapInputSpecs inputSpecs) {
+		return whatif(new JobParameters(conf), inputSpecs);
+	}
+
+	/**
+	 * Generate and return a virtual map profile representing how the map will
+	 * behave under the provided configuration parameters. Unlike
+	 * {@link #whatif(Configuration, MapInputSpecs)}, the parameter values are
+	 * not parsed from a configuration.
+	 * 
+	 * @param params
+	 *            the configuration parameters
+	 * @param inputSpecs
+	 *            the input specifications
+	 * @return a virtual map profile
+	 */
+	public MRMapProfile whatif(JobParameters params, MapInputSpecs inputSpecs) {
 
 		if (sourceProf.isEmpty()) {
 			throw new RuntimeException(
@@ -100,11 +163,10 @@ public class MapProfileOracle extends TaskProfileOracle {
 							+ sourceProf.getTaskId() + " is empty!");
 		}
 
-		this.conf = conf;
+		this.params = params;
 		this.inputSpecs = inputSpecs;
 
-		this.virtualProf = new MRMapProfile(
-				getVirtualTaskId(sourceProf.getTaskId()));
+		this.virtualProf = new MRMapProfile(virtualTaskId);
 		virtualProf.setNumTasks(inputSpecs.getNumSplits());
 		virtualProf.setInputIndex(inputSpecs.getInputIndex());
 
@@ -130,14 +192,12 @@ public class MapProfileOracle extends TaskProfileOracle {
 	 * Initialize some common variables based on the given configuration
 	 */
 	private void initializeCommonVariables() {
-		isMapOnly = (conf.getInt(MR_RED_TASKS, 1) == 0);
-		useCombiner = conf.get(MR_COMBINE_CLASS) != null
-				&& conf.getBoolean(STARFISH_USE_COMBINER, true);
+		isMapOnly = (params.getNumReducers() == 0);
+		useCombiner = params.isCombinerUsed();
 		useInputCompr = inputSpecs.isCompressed();
-		useIntermCompr = conf.getBoolean(MR_COMPRESS_MAP_OUT, false);
-		useOutputCompr = isMapOnly
-				&& ProfileUtils.isMROutputCompressionOn(conf);
-		sortFactor = conf.getInt(MR_SORT_FACTOR, DEF_SORT_FACTOR);
+		useIntermCompr = params.isCompressMapOut();
+		useOutputCompr = isMapOnly && params.isOutputCompressionOn();
+		sortFactor = params.getSortFactor();
 
 		numMergedRecords = 0l;
 		numCombineInMergeRecs = 0l;
@@ -145,9 +205,11 @@ public class MapProfileOracle extends TaskProfileOracle {
 		if (useCombiner) {
 			// Get counters from the source profile
 			long outputPairs = sourceProf
-					.getCounter(MRCounter.MAP_OUTPUT_RECORDS);
-			long outputSize = sourceProf.getCounter(MRCounter.MAP_OUTPUT_BYTES);
-			double numSpills = sourceProf.getCounter(MRCounter.MAP_NUM_SPILLS);
+					.getCounter(MRCounter.MAP_OUTPUT_RECORDS, 0l);
+			long outputSize = sourceProf.getCounter(MRCounter.MAP_OUTPUT_BYTES,
+					0l);
+			double numSpills = sourceProf.getCounter(MRCounter.MAP_NUM_SPILLS,
+					0l);
 
 			// Adjust the combiner selectivities
 			adjCombinePairsSel = sourceProf.getStatistic(
@@ -166,7 +228,7 @@ public class MapProfileOracle extends TaskProfileOracle {
 	private void calcVirtualMapStatistics() {
 
 		// Set the statistics common between mappers and reducers
-		calcVirtualTaskStatistics(sourceProf, virtualProf, conf);
+		calcVirtualTaskStatistics(sourceProf, virtualProf, params);
 
 		// The following statistics remain the same
 		virtualProf.addStatistic(MRStatistics.INPUT_PAIR_WIDTH, sourceProf
@@ -223,7 +285,8 @@ public class MapProfileOracle extends TaskProfileOracle {
 		if (!isMapOnly) {
 			// Calculate the spilling-related counters
 			calcVirtualMapCountersSpillPhase();
-			long numSpills = virtualProf.getCounter(MRCounter.MAP_NUM_SPILLS);
+			long numSpills = virtualProf.getCounter(MRCounter.MAP_NUM_SPILLS,
+					0l);
 
 			// Calculate the merging-related counters
 			if (numSpills > 1) {
@@ -253,9 +316,9 @@ public class MapProfileOracle extends TaskProfileOracle {
 		double mapInputBytes = inputSpecs.getSize();
 		if (useInputCompr)
 			mapInputBytes /= virtualProf
-					.getStatistic(MRStatistics.INPUT_COMPRESS_RATIO);
+					.getStatistic(MRStatistics.INPUT_COMPRESS_RATIO, 0d);
 		double mapInputRecs = mapInputBytes
-				/ virtualProf.getStatistic(MRStatistics.INPUT_PAIR_WIDTH);
+				/ virtualProf.getStatistic(MRStatistics.INPUT_PAIR_WIDTH, 0d);
 
 		if (sourceProf.containsCounter(MRCounter.S3N_BYTES_READ))
 			virtualProf.addCounter(MRCounter.S3N_BYTES_READ,
@@ -298,7 +361,7 @@ public class MapProfileOracle extends TaskProfileOracle {
 		if (isMapOnly) {
 			if (useOutputCompr)
 				mapOutBytes *= virtualProf
-						.getStatistic(MRStatistics.OUT_COMPRESS_RATIO);
+						.getStatistic(MRStatistics.OUT_COMPRESS_RATIO, 0d);
 
 			if (sourceProf.containsCounter(MRCounter.S3N_BYTES_WRITTEN))
 				virtualProf.addCounter(MRCounter.S3N_BYTES_WRITTEN,
@@ -318,20 +381,19 @@ public class MapProfileOracle extends TaskProfileOracle {
 	 */
 	private void calcVirtualMapCountersSpillPhase() {
 
-		long mapOutBytes = virtualProf.getCounter(MRCounter.MAP_OUTPUT_BYTES);
-		long mapOutRecs = virtualProf.getCounter(MRCounter.MAP_OUTPUT_RECORDS);
+		long mapOutBytes = virtualProf.getCounter(MRCounter.MAP_OUTPUT_BYTES,
+				0l);
+		long mapOutRecs = virtualProf.getCounter(MRCounter.MAP_OUTPUT_RECORDS,
+				0l);
 		double mapOutRecWidth = mapOutBytes / (double) mapOutRecs;
 
 		// Calculate the number of records in the output buffer
-		long maxSerPairs = (long) Math
-				.floor(((conf.getInt(MR_SORT_MB, DEF_SORT_MB) * 1024 * 1024)
-						* (1 - conf.getFloat(MR_SORT_REC_PERC,
-								DEF_SORT_REC_PERC)) * conf.getFloat(
-						MR_SPILL_PERC, DEF_SPILL_PERC)) / mapOutRecWidth);
-		long maxAccPairs = (long) Math.floor(((conf.getInt(MR_SORT_MB,
-				DEF_SORT_MB) * 1024 * 1024) * conf.getFloat(MR_SORT_REC_PERC,
-				DEF_SORT_REC_PERC))
-				* conf.getFloat(MR_SPILL_PERC, DEF_SPILL_PERC) / 16.0);
+		long maxSerPairs = (long) Math.floor(((params.getSortMB() * 1024 * 1024)
+				* (1 - params.getSortRecPerc()) * params.getSpillPerc())
+				/ mapOutRecWidth);
+		long maxAccPairs = (long) Math.floor(((params.getSortMB() * 1024 * 1024)
+				* params.getSortRecPerc())
+				* params.getSpillPerc() / 16.0);
 		long maxSpillBufferPairs = Math.min(Math.min(maxSerPairs, maxAccPairs),
 				mapOutRecs);
 
@@ -365,7 +427,7 @@ public class MapProfileOracle extends TaskProfileOracle {
 
 		if (useIntermCompr)
 			spillFileSize *= virtualProf
-					.getStatistic(MRStatistics.INTERM_COMPRESS_RATIO);
+					.getStatistic(MRStatistics.INTERM_COMPRESS_RATIO, 0d);
 
 		virtualProf.addCounter(MRCounter.MAP_NUM_SPILLS, numSpills);
 		virtualProf.addCounter(MRCounter.MAP_RECORDS_PER_SPILL,
@@ -402,7 +464,7 @@ public class MapProfileOracle extends TaskProfileOracle {
 	private void calcVirtualMapCountersMergePhase() {
 
 		// Calculate the number of spill merges
-		long numSpills = virtualProf.getCounter(MRCounter.MAP_NUM_SPILLS);
+		long numSpills = virtualProf.getCounter(MRCounter.MAP_NUM_SPILLS, 0l);
 		virtualProf.addCounter(MRCounter.MAP_NUM_SPILL_MERGES,
 				getNumSpillMerges(numSpills, sortFactor));
 
@@ -411,8 +473,7 @@ public class MapProfileOracle extends TaskProfileOracle {
 		if (useCombiner) {
 			long numSpillsFinalMerge = (numSpills < sortFactor) ? numSpills
 					: sortFactor;
-			if (numSpillsFinalMerge >= conf.getInt(MR_NUM_SPILLS_COMBINE,
-					DEF_NUM_SPILLS_FOR_COMB)) {
+			if (numSpillsFinalMerge >= params.getNumSpillsForCombine()) {
 				// The combiner will be used during the final merge round
 				useCombinerInFinalMerge = true;
 			}
@@ -420,9 +481,9 @@ public class MapProfileOracle extends TaskProfileOracle {
 
 		// Calculate the number of additional spilled records during merging
 		long numSpilledRecords = virtualProf
-				.getCounter(MRCounter.SPILLED_RECORDS);
+				.getCounter(MRCounter.SPILLED_RECORDS, 0l);
 		long numRecsPerSpill = virtualProf
-				.getCounter(MRCounter.MAP_RECORDS_PER_SPILL);
+				.getCounter(MRCounter.MAP_RECORDS_PER_SPILL, 0l);
 		long numIntermSpills = getNumIntermSpillReads(numSpills, sortFactor);
 		numSpilledRecords += numIntermSpills * numRecsPerSpill;
 		numMergedRecords = numSpilledRecords;
@@ -435,18 +496,20 @@ public class MapProfileOracle extends TaskProfileOracle {
 					* adjCombinePairsSel / Math.log(numCombineInMergeRecs));
 			combineOutRecsFinalMerge = Math.max(combineOutRecsFinalMerge,
 					numRecsPerSpill);
-			if (virtualProf.getCounter(MRCounter.MAP_MAX_UNIQUE_GROUPS) < numCombineInMergeRecs) {
+			if (virtualProf.getCounter(MRCounter.MAP_MAX_UNIQUE_GROUPS,
+					0l) < numCombineInMergeRecs) {
 				combineOutRecsFinalMerge = Math
 						.max(combineOutRecsFinalMerge, virtualProf
-								.getCounter(MRCounter.MAP_MAX_UNIQUE_GROUPS));
+								.getCounter(MRCounter.MAP_MAX_UNIQUE_GROUPS,
+										0l));
 			}
 
 			// Calculate the combiner counters
 			long combineInRecs = virtualProf
-					.getCounter(MRCounter.COMBINE_INPUT_RECORDS)
+					.getCounter(MRCounter.COMBINE_INPUT_RECORDS, 0l)
 					+ numCombineInMergeRecs;
 			long combineOutRecs = virtualProf
-					.getCounter(MRCounter.COMBINE_OUTPUT_RECORDS)
+					.getCounter(MRCounter.COMBINE_OUTPUT_RECORDS, 0l)
 					+ combineOutRecsFinalMerge;
 
 			virtualProf.addCounter(MRCounter.COMBINE_INPUT_RECORDS,
@@ -463,13 +526,13 @@ public class MapProfileOracle extends TaskProfileOracle {
 
 		// Calculate the number of bytes read from the local file system
 		long numBytesPerSpill = virtualProf
-				.getCounter(MRCounter.MAP_SPILL_SIZE);
+				.getCounter(MRCounter.MAP_SPILL_SIZE, 0l);
 		long bytesRead = (numIntermSpills + numSpills) * numBytesPerSpill;
 		virtualProf.addCounter(MRCounter.FILE_BYTES_READ, bytesRead);
 
 		// Calculate the number of bytes written to the local file system
 		long bytesWritten = virtualProf
-				.getCounter(MRCounter.FILE_BYTES_WRITTEN);
+				.getCounter(MRCounter.FILE_BYTES_WRITTEN, 0l);
 		bytesWritten += numIntermSpills * numBytesPerSpill;
 		if (useCombinerInFinalMerge) {
 			// Calculate the number of bytes produced by the combiner
@@ -479,15 +542,17 @@ public class MapProfileOracle extends TaskProfileOracle {
 
 			bytesWrittenFinalMerge = Math.max(bytesWrittenFinalMerge,
 					numBytesPerSpill);
-			if (virtualProf.getCounter(MRCounter.MAP_MAX_UNIQUE_GROUPS) < numCombineInMergeRecs) {
+			if (virtualProf.getCounter(MRCounter.MAP_MAX_UNIQUE_GROUPS,
+					0l) < numCombineInMergeRecs) {
 				// Calculate the max size produced by the combiner
 				long mapOutBytes = virtualProf
-						.getCounter(MRCounter.MAP_OUTPUT_BYTES);
+						.getCounter(MRCounter.MAP_OUTPUT_BYTES, 0l);
 				long mapOutRecs = virtualProf
-						.getCounter(MRCounter.MAP_OUTPUT_RECORDS);
+						.getCounter(MRCounter.MAP_OUTPUT_RECORDS, 0l);
 				double maxOutput = (mapOutBytes / (double) mapOutRecs)
 						* virtualProf
-								.getCounter(MRCounter.MAP_MAX_UNIQUE_GROUPS);
+								.getCounter(MRCounter.MAP_MAX_UNIQUE_GROUPS,
+										0l);
 
 				bytesWrittenFinalMerge = Math.max(bytesWrittenFinalMerge,
 						maxOutput);
@@ -501,8 +566,9 @@ public class MapProfileOracle extends TaskProfileOracle {
 
 		// Calculate the number of bytes materialized at the map task
 		virtualProf.addCounter(MRCounter.MAP_OUTPUT_MATERIALIZED_BYTES,
-				virtualProf.getCounter(MRCounter.FILE_BYTES_WRITTEN)
-						- virtualProf.getCounter(MRCounter.FILE_BYTES_READ));
+				virtualProf.getCounter(MRCounter.FILE_BYTES_WRITTEN, 0l)
+						- virtualProf.getCounter(MRCounter.FILE_BYTES_READ,
+								0l));
 	}
 
 	/**
@@ -517,14 +583,13 @@ public class MapProfileOracle extends TaskProfileOracle {
 
 		// Set up the simulation
 		MergeSimulator merger = new MergeSimulator();
-		merger.addSegments(virtualProf.getCounter(MRCounter.MAP_NUM_SPILLS),
-				virtualProf.getCounter(MRCounter.MAP_SPILL_SIZE),
-				virtualProf.getCounter(MRCounter.MAP_RECORDS_PER_SPILL));
+		merger.addSegments(virtualProf.getCounter(MRCounter.MAP_NUM_SPILLS, 0l),
+				virtualProf.getCounter(MRCounter.MAP_SPILL_SIZE, 0l),
+				virtualProf.getCounter(MRCounter.MAP_RECORDS_PER_SPILL, 0l));
 
 		// Enable the combiner, if any
 		if (useCombiner) {
-			merger.enableCombiner(
-					conf.getInt(MR_NUM_SPILLS_COMBINE, DEF_NUM_SPILLS_FOR_COMB),
+			merger.enableCombiner(params.getNumSpillsForCombine(),
 					adjCombineSizeSel, adjCombinePairsSel);
 		}
 
@@ -550,17 +615,18 @@ public class MapProfileOracle extends TaskProfileOracle {
 		if (useCombiner) {
 			numCombineInMergeRecs = merger.getCombineInRecs();
 			virtualProf.addCounter(MRCounter.COMBINE_INPUT_RECORDS,
-					virtualProf.getCounter(MRCounter.COMBINE_INPUT_RECORDS)
+					virtualProf.getCounter(MRCounter.COMBINE_INPUT_RECORDS, 0l)
 							+ merger.getCombineInRecs());
 			virtualProf.addCounter(MRCounter.COMBINE_OUTPUT_RECORDS,
-					virtualProf.getCounter(MRCounter.COMBINE_OUTPUT_RECORDS)
+					virtualProf.getCounter(MRCounter.COMBINE_OUTPUT_RECORDS, 0l)
 							+ merger.getCombineOutRecs());
 		}
 
 		// Calculate the number of bytes materialized at the map task
 		virtualProf.addCounter(MRCounter.MAP_OUTPUT_MATERIALIZED_BYTES,
-				virtualProf.getCounter(MRCounter.FILE_BYTES_WRITTEN)
-						- virtualProf.getCounter(MRCounter.FILE_BYTES_READ));
+				virtualProf.getCounter(MRCounter.FILE_BYTES_WRITTEN, 0l)
+						- virtualProf.getCounter(MRCounter.FILE_BYTES_READ,
+								0l));
 	}
 
 	/**
@@ -573,7 +639,7 @@ public class MapProfileOracle extends TaskProfileOracle {
 	private void calcVirtualMapCosts() {
 
 		// Set the statistics common between mappers and reducers
-		calcVirtualTaskCosts(sourceProf, virtualProf, conf);
+		calcVirtualTaskCosts(sourceProf, virtualProf, params);
 
 		// Set input compression cost
 		if (useInputCompr) {
@@ -583,7 +649,8 @@ public class MapProfileOracle extends TaskProfileOracle {
 							DEF_COST_CPU_UNCOMPRESS));
 
 			if (virtualProf
-					.getCostFactor(MRCostFactors.INPUT_UNCOMPRESS_CPU_COST) == 0d)
+					.getCostFactor(MRCostFactors.INPUT_UNCOMPRESS_CPU_COST,
+							0d) == 0d)
 				virtualProf.addCostFactor(
 						MRCostFactors.INPUT_UNCOMPRESS_CPU_COST,
 						DEF_COST_CPU_UNCOMPRESS);
@@ -597,7 +664,8 @@ public class MapProfileOracle extends TaskProfileOracle {
 							DEF_COST_CPU_COMPRESS));
 
 			if (virtualProf
-					.getCostFactor(MRCostFactors.OUTPUT_COMPRESS_CPU_COST) == 0d)
+					.getCostFactor(MRCostFactors.OUTPUT_COMPRESS_CPU_COST,
+							0d) == 0d)
 				virtualProf.addCostFactor(
 						MRCostFactors.OUTPUT_COMPRESS_CPU_COST,
 						DEF_COST_CPU_COMPRESS);
@@ -648,14 +716,16 @@ public class MapProfileOracle extends TaskProfileOracle {
 		if (useInputCompr)
 			readCPU = bytesRead
 					* virtualProf
-							.getCostFactor(MRCostFactors.INPUT_UNCOMPRESS_CPU_COST);
+							.getCostFactor(MRCostFactors.INPUT_UNCOMPRESS_CPU_COST,
+									0d);
 		double readIO = bytesRead
-				* virtualProf.getCostFactor(MRCostFactors.READ_HDFS_IO_COST);
+				* virtualProf.getCostFactor(MRCostFactors.READ_HDFS_IO_COST,
+						0d);
 		virtualProf.addTiming(MRTaskPhase.READ, (readCPU + readIO) / NS_PER_MS);
 
 		// Calculate and set MAP
-		double mapCPU = virtualProf.getCounter(MRCounter.MAP_INPUT_RECORDS)
-				* virtualProf.getCostFactor(MRCostFactors.MAP_CPU_COST);
+		double mapCPU = virtualProf.getCounter(MRCounter.MAP_INPUT_RECORDS, 0l)
+				* virtualProf.getCostFactor(MRCostFactors.MAP_CPU_COST, 0d);
 		virtualProf.addTiming(MRTaskPhase.MAP, mapCPU / NS_PER_MS);
 
 		// Calculate and set CLEANUP
@@ -666,14 +736,17 @@ public class MapProfileOracle extends TaskProfileOracle {
 			// Calculate and set WRITE
 			double writeCPU = 0d;
 			if (useOutputCompr)
-				writeCPU = virtualProf.getCounter(MRCounter.MAP_OUTPUT_BYTES)
+				writeCPU = virtualProf.getCounter(MRCounter.MAP_OUTPUT_BYTES,
+						0l)
 						* virtualProf
-								.getCostFactor(MRCostFactors.OUTPUT_COMPRESS_CPU_COST);
+								.getCostFactor(MRCostFactors.OUTPUT_COMPRESS_CPU_COST,
+										0d);
 			double writeIO = virtualProf.getCounter(
 					MRCounter.HDFS_BYTES_WRITTEN,
 					virtualProf.getCounter(MRCounter.S3N_BYTES_WRITTEN, 0l))
 					* virtualProf
-							.getCostFactor(MRCostFactors.WRITE_HDFS_IO_COST);
+							.getCostFactor(MRCostFactors.WRITE_HDFS_IO_COST,
+									0d);
 			virtualProf.addTiming(MRTaskPhase.WRITE, (writeCPU + writeIO)
 					/ NS_PER_MS);
 		}
@@ -691,41 +764,48 @@ public class MapProfileOracle extends TaskProfileOracle {
 	private void calcVirtualMapTimingsSpillPhase() {
 
 		// Get useful counters
-		long mapOutRecs = virtualProf.getCounter(MRCounter.MAP_OUTPUT_RECORDS);
-		long writesFromSpill = virtualProf.getCounter(MRCounter.MAP_NUM_SPILLS)
-				* virtualProf.getCounter(MRCounter.MAP_SPILL_SIZE);
+		long mapOutRecs = virtualProf.getCounter(MRCounter.MAP_OUTPUT_RECORDS,
+				0l);
+		long writesFromSpill = virtualProf.getCounter(MRCounter.MAP_NUM_SPILLS,
+				0l)
+				* virtualProf.getCounter(MRCounter.MAP_SPILL_SIZE, 0l);
 
 		// Calculate and set COLLECT (partition + serialization)
 		double collectCPU = mapOutRecs
-				* virtualProf.getCostFactor(MRCostFactors.PARTITION_CPU_COST)
+				* virtualProf.getCostFactor(MRCostFactors.PARTITION_CPU_COST,
+						0d)
 				+ mapOutRecs
-				* virtualProf.getCostFactor(MRCostFactors.SERDE_CPU_COST);
+				* virtualProf.getCostFactor(MRCostFactors.SERDE_CPU_COST, 0d);
 		virtualProf.addTiming(MRTaskPhase.COLLECT, collectCPU / NS_PER_MS);
 
 		// CPU cost for SPILL
 		double numRecsPerRed = virtualProf
-				.getCounter(MRCounter.MAP_RECS_PER_BUFF_SPILL)
-				/ (double) conf.getInt(MR_RED_TASKS, 1);
+				.getCounter(MRCounter.MAP_RECS_PER_BUFF_SPILL, 0l)
+				/ (double) params.getNumReducers();
 		double sortCPU = mapOutRecs
 				* Math.log((numRecsPerRed < 10) ? 10 : numRecsPerRed)
-				* virtualProf.getCostFactor(MRCostFactors.SORT_CPU_COST);
+				* virtualProf.getCostFactor(MRCostFactors.SORT_CPU_COST, 0d);
 
 		double combineCPU = 0d;
 		if (useCombiner)
 			combineCPU = mapOutRecs
-					* virtualProf.getCostFactor(MRCostFactors.COMBINE_CPU_COST);
+					* virtualProf.getCostFactor(MRCostFactors.COMBINE_CPU_COST,
+							0d);
 
 		double comprCPU = 0d;
 		if (useIntermCompr)
 			comprCPU = writesFromSpill
 					* virtualProf
-							.getCostFactor(MRCostFactors.INTERM_COMPRESS_CPU_COST)
+							.getCostFactor(MRCostFactors.INTERM_COMPRESS_CPU_COST,
+									0d)
 					/ virtualProf
-							.getStatistic(MRStatistics.INTERM_COMPRESS_RATIO);
+							.getStatistic(MRStatistics.INTERM_COMPRESS_RATIO,
+									0d);
 
 		// IO cost for SPILL
 		double spillIO = writesFromSpill
-				* virtualProf.getCostFactor(MRCostFactors.WRITE_LOCAL_IO_COST);
+				* virtualProf.getCostFactor(MRCostFactors.WRITE_LOCAL_IO_COST,
+						0d);
 
 		// Calculate and set SPILL (sort + combine + compress)
 		virtualProf.addTiming(MRTaskPhase.SPILL, (sortCPU + combineCPU
@@ -744,10 +824,12 @@ public class MapProfileOracle extends TaskProfileOracle {
 	private void calcVirtualMapTimingsMergePhase() {
 
 		// Get useful counters
-		long localReads = virtualProf.getCounter(MRCounter.FILE_BYTES_READ);
-		long localWrites = virtualProf.getCounter(MRCounter.FILE_BYTES_WRITTEN);
-		long writesFromSpill = virtualProf.getCounter(MRCounter.MAP_NUM_SPILLS)
-				* virtualProf.getCounter(MRCounter.MAP_SPILL_SIZE);
+		long localReads = virtualProf.getCounter(MRCounter.FILE_BYTES_READ, 0l);
+		long localWrites = virtualProf.getCounter(MRCounter.FILE_BYTES_WRITTEN,
+				0l);
+		long writesFromSpill = virtualProf.getCounter(MRCounter.MAP_NUM_SPILLS,
+				0l)
+				* virtualProf.getCounter(MRCounter.MAP_SPILL_SIZE, 0l);
 
 		// CPU cost
 		double uncomprCPU = 0;
@@ -755,27 +837,33 @@ public class MapProfileOracle extends TaskProfileOracle {
 		if (useIntermCompr) {
 			uncomprCPU = localReads
 					* virtualProf
-							.getCostFactor(MRCostFactors.INTERM_UNCOMPRESS_CPU_COST);
+							.getCostFactor(MRCostFactors.INTERM_UNCOMPRESS_CPU_COST,
+									0d);
 			comprCPU = (localWrites - writesFromSpill)
 					* virtualProf
-							.getCostFactor(MRCostFactors.INTERM_COMPRESS_CPU_COST)
+							.getCostFactor(MRCostFactors.INTERM_COMPRESS_CPU_COST,
+									0d)
 					/ virtualProf
-							.getStatistic(MRStatistics.INTERM_COMPRESS_RATIO);
+							.getStatistic(MRStatistics.INTERM_COMPRESS_RATIO,
+									0d);
 		}
 
 		double mergeCPU = numMergedRecords
-				* virtualProf.getCostFactor(MRCostFactors.MERGE_CPU_COST);
+				* virtualProf.getCostFactor(MRCostFactors.MERGE_CPU_COST, 0d);
 
 		double combineCPU = 0d;
 		if (useCombiner)
 			combineCPU = numCombineInMergeRecs
-					* virtualProf.getCostFactor(MRCostFactors.COMBINE_CPU_COST);
+					* virtualProf.getCostFactor(MRCostFactors.COMBINE_CPU_COST,
+							0d);
 
 		// IO cost
 		double mergeReadIO = localReads
-				* virtualProf.getCostFactor(MRCostFactors.READ_LOCAL_IO_COST);
+				* virtualProf.getCostFactor(MRCostFactors.READ_LOCAL_IO_COST,
+						0d);
 		double mergeWriteIO = (localWrites - writesFromSpill)
-				* virtualProf.getCostFactor(MRCostFactors.WRITE_LOCAL_IO_COST);
+				* virtualProf.getCostFactor(MRCostFactors.WRITE_LOCAL_IO_COST,
+						0d);
 
 		// Calculate and set MERGE
 		virtualProf.addTiming(MRTaskPhase.MERGE, (uncomprCPU + mergeCPU
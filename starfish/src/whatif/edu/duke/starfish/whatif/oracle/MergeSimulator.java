@@ -1,11 +1,23 @@
 package edu.duke.starfish.whatif.oracle;
 
-import java.util.PriorityQueue;
+import java.util.TreeSet;
 
 /**
  * A simulator to perform merging of disk segments based on how Hadoop performs
  * merging.
  * 
+ * Segments are not stored individually. Instead, identical segments are stored
+ * as a single run of segments (size, records, count), ordered by size. A merge
+ * pass consumes whole runs at a time, and consecutive merge passes that only
+ * consume segments from the smallest run are performed in one step. Hence, the
+ * cost of a simulation depends on the number of distinct segment sizes and not
+ * on the number of segments.
+ * 
+ * Segments of equal size are merged in increasing order of records, and the
+ * memory segments are added to the segment produced by the first merge pass
+ * before it takes its place among the other segments. The original simulator
+ * left both choices to the layout of its priority queue.
+ * 
  * @author hero
  */
 public class MergeSimulator {
@@ -16,7 +28,8 @@ public class MergeSimulator {
 	 */
 
 	// Simulation setup
-	private PriorityQueue<Segment> segments;
+	private TreeSet<Run> runs; // The runs of segments ordered by size
+	private long numSegments; // The total number of segments in all runs
 	private long totalInputRecords;
 
 	// Use of combiner for final merging phase
@@ -45,7 +58,8 @@ public class MergeSimulator {
 	 * Default constructor
 	 */
 	public MergeSimulator() {
-		segments = new PriorityQueue<Segment>();
+		runs = new TreeSet<Run>();
+		numSegments = 0l;
 		useCombiner = false;
 		numMemSegments = 0;
 		totalInputRecords = 0l;
@@ -142,8 +156,9 @@ public class MergeSimulator {
 	 *            the number of records of each segment
 	 */
 	public void addSegments(long count, long size, long records) {
-		for (int i = 0; i < count; ++i) {
-			segments.add(new Segment(size, records));
+		if (count > 0) {
+			addRun(size, records, count);
+			numSegments += count;
 		}
 		totalInputRecords += count * records;
 		minNumUniqueValues = Math.max(minNumUniqueValues, records);
@@ -193,13 +208,22 @@ public class MergeSimulator {
 		initialize();
 
 		// Check if there is anything to merge
-		if (segments.size() <= 1)
+		if (numSegments <= 1)
 			return;
 
 		int passNo = 1;
-		while (segments.size() > sortFactor) {
+		while (numSegments > sortFactor) {
+			if (passNo > 1) {
+				// Perform as many intermediate merges as possible at once
+				long numPasses = mergeSmallestRun(sortFactor);
+				if (numPasses > 0) {
+					passNo += numPasses;
+					continue;
+				}
+			}
+
 			// Perform intermediate merge
-			Segment merged = mergeSegments(sortFactor, passNo);
+			Run merged = mergeSegments(sortFactor, passNo);
 
 			// We have read and written the same amount of data
 			bytesRead += merged.size;
@@ -214,6 +238,7 @@ public class MergeSimulator {
 				spilledRecords += numMemSegments * memSegmentRecs;
 			}
 
+			addRun(merged.size, merged.records, 1);
 			++passNo;
 		}
 
@@ -222,12 +247,13 @@ public class MergeSimulator {
 		mergedRecords = totalInputRecords + spilledRecords;
 
 		// Check if there is anything left to merge
-		if (segments.size() <= 1 || skipFinalMerge)
+		if (numSegments <= 1 || skipFinalMerge)
 			return;
 
 		// Perform the final merge
-		int numLeft = segments.size();
-		Segment merged = mergeSegments(sortFactor, passNo);
+		long numLeft = numSegments;
+		Run merged = mergeSegments(sortFactor, passNo);
+		addRun(merged.size, merged.records, 1);
 
 		if (useCombiner && numLeft >= numSpillsForCombine) {
 			// Apply the combiner
@@ -265,7 +291,7 @@ public class MergeSimulator {
 	 *            the pass number
 	 * @return the number of spills to merge
 	 */
-	private int getNumSegmentsToMerge(int numSegments, int sortFactor,
+	private long getNumSegmentsToMerge(long numSegments, int sortFactor,
 			int passNo) {
 
 		if (numSegments <= sortFactor)
@@ -274,7 +300,7 @@ public class MergeSimulator {
 		if (passNo > 1)
 			return sortFactor;
 
-		int mod = (numSegments - 1) % (sortFactor - 1);
+		long mod = (numSegments - 1) % (sortFactor - 1);
 		if (mod == 0)
 			return sortFactor;
 
@@ -297,7 +323,29 @@ public class MergeSimulator {
 	}
 
 	/**
-	 * Merge a number of segments into a single merge
+	 * Add 'count' segments of size 'size' and 'records' number of records to
+	 * the runs. The number of segments is not updated.
+	 * 
+	 * @param size
+	 *            the size of each segment
+	 * @param records
+	 *            the number of records of each segment
+	 * @param count
+	 *            the number of segments to add
+	 */
+	private void addRun(long size, long records, long count) {
+		Run run = new Run(size, records, count);
+		Run existing = runs.ceiling(run);
+		if (existing != null && existing.compareTo(run) == 0)
+			existing.count += count;
+		else
+			runs.add(run);
+	}
+
+	/**
+	 * Merge a number of segments into a single merge. The merged segment is
+	 * removed from the runs and it is the responsibility of the caller to add
+	 * it back.
 	 * 
 	 * @param sortFactor
 	 *            sort factor
@@ -305,64 +353,111 @@ public class MergeSimulator {
 	 *            the merge pass number
 	 * @return the merged segment
 	 */
-	private Segment mergeSegments(int sortFactor, int passNo) {
+	private Run mergeSegments(int sortFactor, int passNo) {
 
 		++numMergePasses;
-		Segment merged = new Segment();
-		Segment toMerge = null;
+		Run merged = new Run(0, 0, 1);
 
-		// Merge 'numSegments' segments into one segment
-		int numSegments = getNumSegmentsToMerge(segments.size(), sortFactor,
+		// Merge 'numToMerge' segments into one segment
+		long numToMerge = getNumSegmentsToMerge(numSegments, sortFactor,
 				passNo);
-
-		for (int i = 0; i < numSegments; ++i) {
-			toMerge = segments.poll();
-			merged.size += toMerge.size;
-			merged.records += toMerge.records;
+		numSegments -= numToMerge - 1;
+
+		while (numToMerge > 0) {
+			Run smallest = runs.first();
+			long count = Math.min(smallest.count, numToMerge);
+			merged.size += count * smallest.size;
+			merged.records += count * smallest.records;
+
+			smallest.count -= count;
+			if (smallest.count == 0)
+				runs.pollFirst();
+			numToMerge -= count;
 		}
 
-		segments.add(merged);
 		return merged;
 	}
 
+	/**
+	 * Perform all consecutive intermediate merge passes (after the first one)
+	 * that merge 'sortFactor' segments from the smallest run, in one step. Each
+	 * such pass produces an identical segment that is larger than the ones in
+	 * the smallest run, so the next pass will use the smallest run again.
+	 * 
+	 * @param sortFactor
+	 *            the sort factor
+	 * @return the number of merge passes performed
+	 */
+	private long mergeSmallestRun(int sortFactor) {
+
+		Run smallest = runs.first();
+		Run merged = new Run(sortFactor * smallest.size, sortFactor
+				* smallest.records, 0);
+		if (merged.compareTo(smallest) <= 0)
+			return 0;
+
+		// The passes are limited by the run size and by the number of
+		// segments, since each pass requires more than 'sortFactor' segments
+		// and reduces them by 'sortFactor - 1'
+		long maxPasses = (numSegments - 2) / (sortFactor - 1);
+		long numPasses = Math.min(smallest.count / sortFactor, maxPasses);
+		if (numPasses == 0)
+			return 0;
+
+		// Perform the merge passes
+		numMergePasses += numPasses;
+		bytesRead += numPasses * merged.size;
+		bytesWritten += numPasses * merged.size;
+		spilledRecords += numPasses * merged.records;
+
+		smallest.count -= numPasses * sortFactor;
+		if (smallest.count == 0)
+			runs.pollFirst();
+		addRun(merged.size, merged.records, numPasses);
+		numSegments -= numPasses * (sortFactor - 1);
+
+		return numPasses;
+	}
+
 	/* ***************************************************************
 	 * PRIVATE CLASS
 	 * ***************************************************************
 	 */
 
 	/**
-	 * A simple class that represents a segment on disk
+	 * A simple class that represents a run of identical segments on disk.
+	 * Runs are ordered by the segment size and then by the number of records.
 	 * 
 	 * @author hero
 	 */
-	private class Segment implements Comparable<Segment> {
+	private class Run implements Comparable<Run> {
 		private long size;
 		private long records;
-
-		/**
-		 * Default constructor
-		 */
-		public Segment() {
-			this(0, 0);
-		}
+		private long count;
 
 		/**
 		 * Constructor
 		 * 
 		 * @param size
 		 * @param records
+		 * @param count
 		 */
-		public Segment(long size, long records) {
+		public Run(long size, long records, long count) {
 			this.size = size;
 			this.records = records;
+			this.count = count;
 		}
 
 		@Override
-		public int compareTo(Segment arg0) {
+		public int compareTo(Run arg0) {
 			if (this.size > arg0.size)
 				return 1;
 			else if (this.size < arg0.size)
 				return -1;
+			else if (this.records > arg0.records)
+				return 1;
+			else if (this.records < arg0.records)
+				return -1;
 			else
 				return 0;
 		}
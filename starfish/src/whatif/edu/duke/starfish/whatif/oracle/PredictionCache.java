@@ -0,0 +1,145 @@
+package edu.duke.starfish.whatif.oracle;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A bounded cache of task profile predictions with a least-recently-used
+ * eviction policy. The cache keeps track of the number of hits and misses.
+ * 
+ * Note: This class is not thread-safe.
+ * 
+ * @param <K>
+ *            the type of the keys
+ * @param <V>
+ *            the type of the cached predictions
+ * 
+ * @author hero
+ */
+public class PredictionCache<K, V> {
+
+	/* ***************************************************************
+	 * DATA MEMBERS
+	 * ***************************************************************
+	 */
+
+	private LinkedHashMap<K, V> entries; // The cached entries in LRU order
+	private int capacity; // The maximum number of entries
+
+	// Statistics
+	private long hits;
+	private long misses;
+
+	/**
+	 * Constructor
+	 * 
+	 * @param capacity
+	 *            the maximum number of entries (0 disables the cache)
+	 */
+	public PredictionCache(int capacity) {
+		if (capacity < 0)
+			throw new IllegalArgumentException(
+					"The cache capacity must not be negative: " + capacity);
+
+		this.capacity = capacity;
+		this.entries = new LinkedHashMap<K, V>(16, 0.75f, true) {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+				return size() > PredictionCache.this.capacity;
+			}
+		};
+		this.hits = 0l;
+		this.misses = 0l;
+	}
+
+	/* ***************************************************************
+	 * PUBLIC METHODS
+	 * ***************************************************************
+	 */
+
+	/**
+	 * Look up a prediction and update the hit and miss counters
+	 * 
+	 * @param key
+	 *            the key
+	 * @return the cached prediction, or null if not found
+	 */
+	public V get(K key) {
+		V value = entries.get(key);
+		if (value == null)
+			++misses;
+		else
+			++hits;
+		return value;
+	}
+
+	/**
+	 * Add a prediction into the cache, evicting the least recently used one if
+	 * the cache is full
+	 * 
+	 * @param key
+	 *            the key
+	 * @param value
+	 *            the prediction
+	 */
+	public void put(K key, V value) {
+		if (capacity > 0)
+			entries.put(key, value);
+	}
+
+	/**
+	 * Remove all the predictions and reset the counters
+	 */
+	public void clear() {
+		entries.clear();
+		hits = 0l;
+		misses = 0l;
+	}
+
+	/**
+	 * @return the maximum number of entries
+	 */
+	public int getCapacity() {
+		return capacity;
+	}
+
+	/**
+	 * Set the maximum number of entries. Entries are evicted if needed.
+	 * 
+	 * @param capacity
+	 *            the maximum number of entries (0 disables the cache)
+	 */
+	public void setCapacity(int capacity) {
+		if (capacity < 0)
+			throw new IllegalArgumentException(
+					"The cache capacity must not be negative: " + capacity);
+
+		this.capacity = capacity;
+		while (entries.size() > capacity)
+			entries.remove(entries.keySet().iterator().next());
+	}
+
+	/**
+	 * @return the number of cached predictions
+	 */
+	public int size() {
+		return entries.size();
+	}
+
+	/**
+	 * @return the number of lookups that found a prediction
+	 */
+	public long getHits() {
+		return hits;
+	}
+
+	/**
+	 * @return the number of lookups that did not find a prediction
+	 */
+	public long getMisses() {
+		return misses;
+	}
+
+}
@@ -9,7 +9,7 @@ import edu.duke.starfish.profile.profileinfo.execution.profile.enums.MRCostFacto
 import edu.duke.starfish.profile.profileinfo.execution.profile.enums.MRCounter;
 import edu.duke.starfish.profile.profileinfo.execution.profile.enums.MRStatistics;
 import edu.duke.starfish.profile.profileinfo.execution.profile.enums.MRTaskPhase;
-import edu.duke.starfish.profile.utils.ProfileUtils;
+import edu.duke.starfish.whatif.data.JobParameters;
 import edu.duke.starfish.whatif.data.ReduceShuffleSpecs;
 
 /**
@@ -38,8 +38,9 @@ public class ReduceProfileOracle extends TaskProfileOracle {
 	 */
 
 	private MRReduceProfile sourceProf; // The source profile for predictions
+	private String virtualTaskId; // The task id of the virtual profiles
 	private MRReduceProfile virtualProf; // Cache the last predicted profile
-	private Configuration conf; // Cache the last configuration
+	private JobParameters params; // Cache the last configuration parameters
 	private ReduceShuffleSpecs shuffleSpecs; // Cache the last shuffle specs
 
 	// Cache state from the shuffle phase
@@ -66,8 +67,9 @@ public class ReduceProfileOracle extends TaskProfileOracle {
 	 */
 	public ReduceProfileOracle(MRReduceProfile sourceProf) {
 		this.sourceProf = sourceProf;
+		this.virtualTaskId = getVirtualTaskId(sourceProf.getTaskId());
 		this.virtualProf = null;
-		this.conf = null;
+		this.params = null;
 	}
 
 	/* ***************************************************************
@@ -82,6 +84,46 @@ public class ReduceProfileOracle extends TaskProfileOracle {
 		return sourceProf;
 	}
 
+	/**
+	 * Build the key for caching the prediction of this oracle for the provided
+	 * configuration settings and shuffle specifications. Two predictions with
+	 * equal keys are identical.
+	 * 
+	 * @param conf
+	 *            the configuration settings
+	 * @param shuffleSpecs
+	 *            the shuffle specifications
+	 * @return the prediction key
+	 */
+	public PredictionKey getPredictionKey(Configuration conf,
+			ReduceShuffleSpecs shuffleSpecs) {
+		return getPredictionKey(new JobParameters(conf), shuffleSpecs);
+	}
+
+	/**
+	 * Build the key for caching the prediction of this oracle for the provided
+	 * configuration parameters and shuffle specifications. Two predictions
+	 * with equal keys are identical.
+	 * 
+	 * @param params
+	 *            the configuration parameters
+	 * @param shuffleSpecs
+	 *            the shuffle specifications
+	 * @return the prediction key
+	 */
+	public PredictionKey getPredictionKey(JobParameters params,
+			ReduceShuffleSpecs shuffleSpecs) {
+
+		ReduceShuffleSpecs specs = new ReduceShuffleSpecs(shuffleSpecs
+				.getNumMappers(), shuffleSpecs.getNumReducers(), shuffleSpecs
+				.getSize(), shuffleSpecs.getRecords());
+		return buildPredictionKey(specs, params.isCombinerUsed(), params
+				.isCompressMapOut(), params.getTaskMemory(), params
+				.getShuffleInBuffPerc(), params.getShuffleMergePerc(), params
+				.getInMemMergeThr(), params.getSortFactor(), params
+				.getRedInBuffPerc(), params.isOutputCompressionOn());
+	}
+
 	/**
 	 * Generate and return a virtual reduce profile representing how the map
 	 * will behave under the provided configuration settings.
@@ -94,6 +136,23 @@ public class ReduceProfileOracle extends TaskProfileOracle {
 	 */
 	public MRReduceProfile whatif(Configuration conf,
 			ReduceShuffleSpecs shuffleSpecs) {
+		return whatif(new JobParameters(conf), shuffleSpecs);
+	}
+
+	/**
+	 * Generate and return a virtual reduce profile representing how the
+	 * reduce will behave under the provided configuration parameters. Unlike
+	 * {@link #whatif(Configuration, ReduceShuffleSpecs)}, the parameter values
+	 * are not parsed from a configuration.
+	 * 
+	 * @param params
+	 *            the configuration parameters
+	 * @param shuffleSpecs
+	 *            the shuffle specifications
+	 * @return a virtual reduce profile
+	 */
+	public MRReduceProfile whatif(JobParameters params,
+			ReduceShuffleSpecs shuffleSpecs) {
 
 		if (sourceProf.isEmpty()) {
 			throw new RuntimeException(
@@ -101,10 +160,9 @@ public class ReduceProfileOracle extends TaskProfileOracle {
 							+ sourceProf.getTaskId() + " is empty!");
 		}
 
-		this.virtualProf = new MRReduceProfile(
-				getVirtualTaskId(sourceProf.getTaskId()));
+		this.virtualProf = new MRReduceProfile(virtualTaskId);
 		virtualProf.setNumTasks(shuffleSpecs.getNumReducers());
-		this.conf = conf;
+		this.params = params;
 		this.shuffleSpecs = shuffleSpecs;
 
 		initializeCommonVariables();
@@ -138,10 +196,9 @@ public class ReduceProfileOracle extends TaskProfileOracle {
 		bytesWrittenInMergeInSort = 0l;
 		bytesReadInReduce = 0l;
 
-		useCombiner = conf.get(MR_COMBINE_CLASS) != null
-				&& conf.getBoolean(STARFISH_USE_COMBINER, true);
-		useIntermCompr = conf.getBoolean(MR_COMPRESS_MAP_OUT, false);
-		useOutputCompr = ProfileUtils.isMROutputCompressionOn(conf);
+		useCombiner = params.isCombinerUsed();
+		useIntermCompr = params.isCompressMapOut();
+		useOutputCompr = params.isOutputCompressionOn();
 	}
 
 	/**
@@ -152,7 +209,7 @@ public class ReduceProfileOracle extends TaskProfileOracle {
 	private void calcVirtualReduceStatistics() {
 
 		// Set the statistics common between mappers and reducers
-		calcVirtualTaskStatistics(sourceProf, virtualProf, conf);
+		calcVirtualTaskStatistics(sourceProf, virtualProf, params);
 
 		// Set the reduce statistics
 		virtualProf.addStatistic(MRStatistics.REDUCE_PAIRS_PER_GROUP,
@@ -213,7 +270,7 @@ public class ReduceProfileOracle extends TaskProfileOracle {
 		double segmentUncomprSize = segmentComprSize;
 		if (useIntermCompr)
 			segmentUncomprSize /= virtualProf
-					.getStatistic(MRStatistics.INTERM_COMPRESS_RATIO);
+					.getStatistic(MRStatistics.INTERM_COMPRESS_RATIO, 0d);
 		double segmentPairs = shuffleSpecs.getRecords() / (double) numMappers;
 
 		// We will incrementally keep track of the combiner and spilled counters
@@ -222,12 +279,10 @@ public class ReduceProfileOracle extends TaskProfileOracle {
 		double numSpilledRecs = 0d;
 
 		// The shuffled data are placed either in memory buffer or on disk
-		long taskMem = ProfileUtils.getTaskMemory(conf);
-		double shuffleBufferSize = conf.getFloat(MR_SHUFFLE_IN_BUFF_PERC,
-				DEF_SHUFFLE_IN_BUFF_PERC) * taskMem;
-		double mergeSizeThr = conf.getFloat(MR_SHUFFLE_MERGE_PERC,
-				DEF_SHUFFLE_MERGE_PERC) * shuffleBufferSize;
-		long inMemMergeThr = conf.getLong(MR_INMEM_MERGE, DEF_INMEM_MERGE);
+		long taskMem = params.getTaskMemory();
+		double shuffleBufferSize = params.getShuffleInBuffPerc() * taskMem;
+		double mergeSizeThr = params.getShuffleMergePerc() * shuffleBufferSize;
+		long inMemMergeThr = params.getInMemMergeThr();
 
 		// When buffer reaches size of mergeSizeThr or number of segments
 		// exceeds InMemMergeThr, segments are merged and spilled to disk
@@ -255,9 +310,9 @@ public class ReduceProfileOracle extends TaskProfileOracle {
 			shuffleFilePairs = numSegInShuffleFile * segmentPairs;
 			if (useCombiner) {
 				shuffleFileSize *= virtualProf
-						.getStatistic(MRStatistics.COMBINE_SIZE_SEL);
+						.getStatistic(MRStatistics.COMBINE_SIZE_SEL, 0d);
 				shuffleFilePairs *= virtualProf
-						.getStatistic(MRStatistics.COMBINE_PAIRS_SEL);
+						.getStatistic(MRStatistics.COMBINE_PAIRS_SEL, 0d);
 			}
 
 			numShuffleFiles = (long) Math.floor(numMappers
@@ -271,7 +326,8 @@ public class ReduceProfileOracle extends TaskProfileOracle {
 				if (useCombiner)
 					combineOutRecs += combineInRecs
 							* virtualProf
-									.getStatistic(MRStatistics.COMBINE_PAIRS_SEL);
+									.getStatistic(MRStatistics.COMBINE_PAIRS_SEL,
+											0d);
 				else
 					combineOutRecs += combineInRecs;
 
@@ -290,7 +346,7 @@ public class ReduceProfileOracle extends TaskProfileOracle {
 
 		// When the number of shuffle files on disk is greater than
 		// (2*sortFactor-1), they are merged
-		int sortFactor = conf.getInt(MR_SORT_FACTOR, DEF_SORT_FACTOR);
+		int sortFactor = params.getSortFactor();
 		long numShuffleMerges = 0l;
 		if (numShuffleFiles >= 2 * sortFactor - 1) {
 			numShuffleMerges = 1l + (long) Math.floor(((numShuffleFiles - 2
@@ -317,8 +373,7 @@ public class ReduceProfileOracle extends TaskProfileOracle {
 
 		// SORT PHASE BEGINS
 		// Evict segments from memory to satisfy memory constraint
-		double maxSegmentBuffer = taskMem
-				* conf.getFloat(MR_RED_IN_BUFF_PERC, DEF_RED_IN_BUFF_PERC);
+		double maxSegmentBuffer = taskMem * params.getRedInBuffPerc();
 		double currSegmentBuffer = numSegmentsInMem * segmentUncomprSize;
 		long numSegmentsEvicted = 0;
 		if (currSegmentBuffer > maxSegmentBuffer) {
@@ -383,7 +438,7 @@ public class ReduceProfileOracle extends TaskProfileOracle {
 				* segmentComprSize;
 		if (useIntermCompr)
 			redInputSize /= virtualProf
-					.getStatistic(MRStatistics.INTERM_COMPRESS_RATIO);
+					.getStatistic(MRStatistics.INTERM_COMPRESS_RATIO, 0d);
 		double redInputPairs = redInputOnDiskPairs + numSegmentsRemainMem
 				* segmentPairs;
 
@@ -421,9 +476,9 @@ public class ReduceProfileOracle extends TaskProfileOracle {
 
 		// Get the reduce input counters
 		double redInputSize = virtualProf
-				.getCounter(MRCounter.REDUCE_INPUT_BYTES);
+				.getCounter(MRCounter.REDUCE_INPUT_BYTES, 0l);
 		double redInputPairs = virtualProf
-				.getCounter(MRCounter.REDUCE_INPUT_RECORDS);
+				.getCounter(MRCounter.REDUCE_INPUT_RECORDS, 0l);
 
 		// Calculate the reduce output counters
 		double redOutSize = redInputSize
@@ -450,7 +505,7 @@ public class ReduceProfileOracle extends TaskProfileOracle {
 		// Calculate and set the output size
 		if (useOutputCompr)
 			redOutSize *= virtualProf
-					.getStatistic(MRStatistics.OUT_COMPRESS_RATIO);
+					.getStatistic(MRStatistics.OUT_COMPRESS_RATIO, 0d);
 
 		if (sourceProf.containsCounter(MRCounter.S3N_BYTES_WRITTEN))
 			virtualProf.addCounter(MRCounter.S3N_BYTES_WRITTEN,
@@ -470,7 +525,7 @@ public class ReduceProfileOracle extends TaskProfileOracle {
 	private void calcVirtualReduceCosts() {
 
 		// Set the statistics common between mappers and reducers
-		calcVirtualTaskCosts(sourceProf, virtualProf, conf);
+		calcVirtualTaskCosts(sourceProf, virtualProf, params);
 
 		// Set output compression cost
 		if (useOutputCompr) {
@@ -511,15 +566,16 @@ public class ReduceProfileOracle extends TaskProfileOracle {
 
 		// Calculate and set SHUFFLE (network copy, uncompress, merge)
 		double shuffleBytes = virtualProf
-				.getCounter(MRCounter.REDUCE_SHUFFLE_BYTES);
+				.getCounter(MRCounter.REDUCE_SHUFFLE_BYTES, 0l);
 		double netCost = shuffleBytes
-				* virtualProf.getCostFactor(MRCostFactors.NETWORK_COST);
+				* virtualProf.getCostFactor(MRCostFactors.NETWORK_COST, 0d);
 
 		double shuffleCPU = 0d;
 		if (useIntermCompr)
 			shuffleCPU = shuffleBytes
 					* virtualProf
-							.getCostFactor(MRCostFactors.INTERM_UNCOMPRESS_CPU_COST);
+							.getCostFactor(MRCostFactors.INTERM_UNCOMPRESS_CPU_COST,
+									0d);
 
 		double mergeTime = calcVirtualMergeTimings(mergedRecordsInShuffle,
 				bytesReadInMergeInShuffle, bytesWrittenInMergeInShuffle);
@@ -527,8 +583,9 @@ public class ReduceProfileOracle extends TaskProfileOracle {
 		double combineCPU = 0d;
 		if (useCombiner) {
 			combineCPU = virtualProf
-					.getCounter(MRCounter.COMBINE_INPUT_RECORDS)
-					* virtualProf.getCostFactor(MRCostFactors.COMBINE_CPU_COST);
+					.getCounter(MRCounter.COMBINE_INPUT_RECORDS, 0l)
+					* virtualProf.getCostFactor(MRCostFactors.COMBINE_CPU_COST,
+							0d);
 		}
 
 		virtualProf.addTiming(MRTaskPhase.SHUFFLE, (netCost + shuffleCPU
@@ -557,23 +614,26 @@ public class ReduceProfileOracle extends TaskProfileOracle {
 
 		// Calculate and set REDUCE
 		double readIO = bytesReadInReduce
-				* virtualProf.getCostFactor(MRCostFactors.READ_LOCAL_IO_COST);
+				* virtualProf.getCostFactor(MRCostFactors.READ_LOCAL_IO_COST,
+						0d);
 		double reduceCPU = virtualProf
-				.getCounter(MRCounter.REDUCE_INPUT_RECORDS)
-				* virtualProf.getCostFactor(MRCostFactors.REDUCE_CPU_COST);
+				.getCounter(MRCounter.REDUCE_INPUT_RECORDS, 0l)
+				* virtualProf.getCostFactor(MRCostFactors.REDUCE_CPU_COST, 0d);
 		virtualProf.addTiming(MRTaskPhase.REDUCE, (readIO + reduceCPU)
 				/ NS_PER_MS);
 
 		// Calculate and set WRITE
 		double writeIO = virtualProf.getCounter(MRCounter.HDFS_BYTES_WRITTEN,
 				virtualProf.getCounter(MRCounter.S3N_BYTES_WRITTEN, 0l))
-				* virtualProf.getCostFactor(MRCostFactors.WRITE_HDFS_IO_COST);
+				* virtualProf.getCostFactor(MRCostFactors.WRITE_HDFS_IO_COST,
+						0d);
 
 		double comprCPU = 0d;
 		if (useOutputCompr)
-			comprCPU = virtualProf.getCounter(MRCounter.REDUCE_OUTPUT_BYTES)
+			comprCPU = virtualProf.getCounter(MRCounter.REDUCE_OUTPUT_BYTES, 0l)
 					* virtualProf
-							.getCostFactor(MRCostFactors.OUTPUT_COMPRESS_CPU_COST);
+							.getCostFactor(MRCostFactors.OUTPUT_COMPRESS_CPU_COST,
+									0d);
 		virtualProf.addTiming(MRTaskPhase.WRITE, (writeIO + comprCPU)
 				/ NS_PER_MS);
 
@@ -599,9 +659,11 @@ public class ReduceProfileOracle extends TaskProfileOracle {
 
 		// Calculate the IO costs for MERGE
 		double readIO = bytesRead
-				* virtualProf.getCostFactor(MRCostFactors.READ_LOCAL_IO_COST);
+				* virtualProf.getCostFactor(MRCostFactors.READ_LOCAL_IO_COST,
+						0d);
 		double writeIO = bytesWritten
-				* virtualProf.getCostFactor(MRCostFactors.WRITE_LOCAL_IO_COST);
+				* virtualProf.getCostFactor(MRCostFactors.WRITE_LOCAL_IO_COST,
+						0d);
 
 		// Calculate the CPU costs for SORT
 		double uncomprCPU = 0d;
@@ -609,16 +671,19 @@ public class ReduceProfileOracle extends TaskProfileOracle {
 		if (useIntermCompr) {
 			uncomprCPU = bytesRead
 					* virtualProf
-							.getCostFactor(MRCostFactors.INTERM_UNCOMPRESS_CPU_COST);
+							.getCostFactor(MRCostFactors.INTERM_UNCOMPRESS_CPU_COST,
+									0d);
 			comprCPU = bytesWritten
 					* virtualProf
-							.getCostFactor(MRCostFactors.INTERM_COMPRESS_CPU_COST)
+							.getCostFactor(MRCostFactors.INTERM_COMPRESS_CPU_COST,
+									0d)
 					/ virtualProf
-							.getStatistic(MRStatistics.INTERM_COMPRESS_RATIO);
+							.getStatistic(MRStatistics.INTERM_COMPRESS_RATIO,
+									0d);
 		}
 
 		double mergeCPU = mergedRecords
-				* virtualProf.getCostFactor(MRCostFactors.MERGE_CPU_COST);
+				* virtualProf.getCostFactor(MRCostFactors.MERGE_CPU_COST, 0d);
 
 		return readIO + writeIO + uncomprCPU + comprCPU + mergeCPU;
 	}
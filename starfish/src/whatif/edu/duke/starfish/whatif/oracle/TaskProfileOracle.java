@@ -2,11 +2,12 @@ package edu.duke.starfish.whatif.oracle;
 
 import static edu.duke.starfish.profile.utils.Constants.*;
 
-import org.apache.hadoop.conf.Configuration;
+import java.util.Arrays;
 
 import edu.duke.starfish.profile.profileinfo.execution.profile.MRTaskProfile;
 import edu.duke.starfish.profile.profileinfo.execution.profile.enums.MRCostFactors;
 import edu.duke.starfish.profile.profileinfo.execution.profile.enums.MRStatistics;
+import edu.duke.starfish.whatif.data.JobParameters;
 
 /**
  * An abstract class providing functionality that is common between the map and
@@ -31,15 +32,14 @@ public abstract class TaskProfileOracle {
 	 *            the source profile
 	 * @param virtualProf
 	 *            the virtual profile to populate
-	 * @param conf
-	 *            the suggested configuration
+	 * @param params
+	 *            the suggested configuration parameters
 	 */
 	protected void calcVirtualTaskStatistics(MRTaskProfile sourceProf,
-			MRTaskProfile virtualProf, Configuration conf) {
+			MRTaskProfile virtualProf, JobParameters params) {
 
 		// Set the combiner statistics
-		if (conf.get(MR_COMBINE_CLASS) != null
-				&& conf.getBoolean(STARFISH_USE_COMBINER, true)) {
+		if (params.isCombinerUsed()) {
 			virtualProf.addStatistic(MRStatistics.COMBINE_SIZE_SEL, sourceProf
 					.getStatistic(MRStatistics.COMBINE_SIZE_SEL, DEF_SEL_ONE));
 			virtualProf.addStatistic(MRStatistics.COMBINE_PAIRS_SEL, sourceProf
@@ -47,7 +47,7 @@ public abstract class TaskProfileOracle {
 		}
 
 		// Set intermediate compression statistics
-		if (conf.getBoolean(MR_COMPRESS_MAP_OUT, false)) {
+		if (params.isCompressMapOut()) {
 			virtualProf.addStatistic(MRStatistics.INTERM_COMPRESS_RATIO,
 					sourceProf.getStatistic(MRStatistics.INTERM_COMPRESS_RATIO,
 							DEF_COMPRESS_RATIO));
@@ -71,24 +71,23 @@ public abstract class TaskProfileOracle {
 	 *            the source profile
 	 * @param virtualProf
 	 *            the virtual profile to populate
-	 * @param conf
-	 *            the suggested configuration
+	 * @param params
+	 *            the suggested configuration parameters
 	 */
 	protected void calcVirtualTaskCosts(MRTaskProfile sourceProf,
-			MRTaskProfile virtualProf, Configuration conf) {
+			MRTaskProfile virtualProf, JobParameters params) {
 
 		virtualProf.addCostFactors(sourceProf.getCostFactors());
 
 		// Ensure we have combine costs
-		if (conf.get(MR_COMBINE_CLASS) != null
-				&& conf.getBoolean(STARFISH_USE_COMBINER, true)) {
+		if (params.isCombinerUsed()) {
 			virtualProf.addCostFactor(MRCostFactors.COMBINE_CPU_COST,
 					sourceProf.getCostFactor(MRCostFactors.COMBINE_CPU_COST,
 							DEF_COST_CPU_COMBINE));
 		}
 
 		// Ensure we have compression costs and are not set to zero
-		if (conf.getBoolean(MR_COMPRESS_MAP_OUT, false)) {
+		if (params.isCompressMapOut()) {
 			virtualProf.addCostFactor(MRCostFactors.INTERM_COMPRESS_CPU_COST,
 					sourceProf.getCostFactor(
 							MRCostFactors.INTERM_COMPRESS_CPU_COST,
@@ -99,12 +98,14 @@ public abstract class TaskProfileOracle {
 							DEF_COST_CPU_UNCOMPRESS));
 
 			if (virtualProf
-					.getCostFactor(MRCostFactors.INTERM_COMPRESS_CPU_COST) == 0d)
+					.getCostFactor(MRCostFactors.INTERM_COMPRESS_CPU_COST,
+							0d) == 0d)
 				virtualProf.addCostFactor(
 						MRCostFactors.INTERM_COMPRESS_CPU_COST,
 						DEF_COST_CPU_COMPRESS);
 			if (virtualProf
-					.getCostFactor(MRCostFactors.INTERM_UNCOMPRESS_CPU_COST) == 0d)
+					.getCostFactor(MRCostFactors.INTERM_UNCOMPRESS_CPU_COST,
+							0d) == 0d)
 				virtualProf.addCostFactor(
 						MRCostFactors.INTERM_UNCOMPRESS_CPU_COST,
 						DEF_COST_CPU_UNCOMPRESS);
@@ -195,4 +196,68 @@ public abstract class TaskProfileOracle {
 			return VIRTUAL + currentId;
 		}
 	}
+
+	/**
+	 * Build the key for caching a prediction. The key consists of the task
+	 * specifications and the values of the configuration parameters (and any
+	 * other derived values) the prediction depends on.
+	 * 
+	 * @param specs
+	 *            a copy of the task specifications
+	 * @param values
+	 *            the values the prediction depends on
+	 * @return the prediction key
+	 */
+	protected static PredictionKey buildPredictionKey(Object specs,
+			Object... values) {
+
+		Object[] keyValues = new Object[1 + values.length];
+		keyValues[0] = specs;
+		System.arraycopy(values, 0, keyValues, 1, values.length);
+
+		return new PredictionKey(keyValues);
+	}
+
+	/* ***************************************************************
+	 * PUBLIC CLASS
+	 * ***************************************************************
+	 */
+
+	/**
+	 * The key of a cached task prediction. Keys can only be built by the task
+	 * oracles.
+	 * 
+	 * @author hero
+	 */
+	public static class PredictionKey {
+
+		private Object[] values; // The values the prediction depends on
+		private int hash; // The cached hash code
+
+		/**
+		 * Constructor
+		 * 
+		 * @param values
+		 *            the values the prediction depends on
+		 */
+		private PredictionKey(Object[] values) {
+			this.values = values;
+			this.hash = Arrays.hashCode(values);
+		}
+
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj)
+				return true;
+			if (!(obj instanceof PredictionKey))
+				return false;
+			PredictionKey other = (PredictionKey) obj;
+			return hash == other.hash && Arrays.equals(values, other.values);
+		}
+	}
 }
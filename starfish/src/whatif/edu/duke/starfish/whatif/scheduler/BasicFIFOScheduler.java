@@ -1,13 +1,12 @@
 package edu.duke.starfish.whatif.scheduler;
 
-import static edu.duke.starfish.profile.utils.Constants.DEF_RED_SLOWSTART_MAPS;
-import static edu.duke.starfish.profile.utils.Constants.MR_RED_SLOWSTART_MAPS;
-
 import java.text.NumberFormat;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.Date;
 import java.util.List;
+import java.util.Map;
 import java.util.PriorityQueue;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -33,6 +32,7 @@ import edu.duke.starfish.profile.profileinfo.execution.profile.MRReduceProfile;
 import edu.duke.starfish.profile.profileinfo.execution.profile.enums.MRCounter;
 import edu.duke.starfish.profile.profileinfo.execution.profile.enums.MRTaskPhase;
 import edu.duke.starfish.profile.profileinfo.setup.TaskTrackerInfo;
+import edu.duke.starfish.whatif.data.JobParameters;
 
 /**
  * A basic FIFO scheduler that simulates the execution of a MapReduce on a
@@ -55,6 +55,13 @@ public class BasicFIFOScheduler implements IWhatIfScheduler {
 	private boolean ignoreReducers; // Flag to not schedule the reducers
 	private ClusterConfiguration cluster;
 
+	// Reusable buffers for computing only the job duration
+	private SlotHeap mapHeap; // The ready times of the map slots
+	private SlotHeap redHeap; // The ready times of the reduce slots
+	private long[] mapEndTimes; // The end times of the map tasks
+	private int[] mapProfOrder; // The scheduling order of the map profiles
+	private long[] mapProfSizes; // The input sizes of the map profiles
+
 	// Constants
 	private static final long HALF_HEARTBEAT_DELAY = 1500l;
 	private static final long HEARTBEAT_DELAY = 3000l;
@@ -65,10 +72,12 @@ public class BasicFIFOScheduler implements IWhatIfScheduler {
 	private static final String VIRTUAL_ATTEMPT = "virtual_attempt_";
 	private static final String U_MAP_U = "_m_";
 	private static final String U_RED_U = "_r_";
-	private static final NumberFormat nf = NumberFormat.getInstance();
 	private static final Pattern JOB_ID_PATTERN = Pattern
 			.compile(".*_([0-9]+_[0-9]+)");
 
+	// NumberFormat is not thread-safe, so each scheduler keeps its own
+	private final NumberFormat nf = NumberFormat.getInstance();
+
 	{
 		nf.setMinimumIntegerDigits(6);
 		nf.setGroupingUsed(false);
@@ -102,6 +111,33 @@ public class BasicFIFOScheduler implements IWhatIfScheduler {
 
 		this.ignoreReducers = false;
 		this.cluster = cluster;
+		initBuffers();
+	}
+
+	/**
+	 * Copy constructor. The new scheduler shares the cluster with the other
+	 * scheduler but gets its own copy of the task slots, including their
+	 * current and checkpointed ready times.
+	 * 
+	 * @param other
+	 *            the scheduler to copy from
+	 */
+	public BasicFIFOScheduler(BasicFIFOScheduler other) {
+
+		// Copy the task slots
+		this.mapSlots = new PriorityQueue<TaskSlot>(other.cluster
+				.getTotalMapSlots());
+		this.redSlots = new PriorityQueue<TaskSlot>(other.cluster
+				.getTotalReduceSlots());
+
+		for (TaskSlot slot : other.mapSlots)
+			mapSlots.add(new TaskSlot(slot));
+		for (TaskSlot slot : other.redSlots)
+			redSlots.add(new TaskSlot(slot));
+
+		this.ignoreReducers = other.ignoreReducers;
+		this.cluster = other.cluster;
+		initBuffers();
 	}
 
 	/* ***************************************************************
@@ -131,6 +167,20 @@ public class BasicFIFOScheduler implements IWhatIfScheduler {
 			slot.reset();
 		for (TaskSlot slot : redSlots)
 			slot.reset();
+
+		// The ready times changed in place, so the queues must be rebuilt
+		mapHeap.load(mapSlots);
+		mapHeap.store(mapSlots);
+		redHeap.load(redSlots);
+		redHeap.store(redSlots);
+	}
+
+	/**
+	 * @see IWhatIfScheduler#copy()
+	 */
+	@Override
+	public IWhatIfScheduler copy() {
+		return new BasicFIFOScheduler(this);
 	}
 
 	/**
@@ -148,6 +198,17 @@ public class BasicFIFOScheduler implements IWhatIfScheduler {
 	@Override
 	public MRJobInfo scheduleJobGetJobInfo(Date submissionTime,
 			MRJobProfile jobProfile, Configuration conf) {
+		return scheduleJobGetJobInfo(submissionTime, jobProfile,
+				new JobParameters(conf));
+	}
+
+	/**
+	 * @see IWhatIfScheduler#scheduleJobGetJobInfo(Date, MRJobProfile,
+	 *      JobParameters)
+	 */
+	@Override
+	public MRJobInfo scheduleJobGetJobInfo(Date submissionTime,
+			MRJobProfile jobProfile, JobParameters params) {
 
 		// Find the job start time
 		Date jobStartTime = mapSlots.peek().getReadyTime();
@@ -261,8 +322,8 @@ public class BasicFIFOScheduler implements IWhatIfScheduler {
 		}
 
 		// Calculate the number of completed maps before reducers start
-		int numMapsBeforeReducers = (int) Math.ceil((conf.getFloat(
-				MR_RED_SLOWSTART_MAPS, DEF_RED_SLOWSTART_MAPS) * numMapTasks));
+		int numMapsBeforeReducers = (int) Math.ceil((params
+				.getRedSlowstartMaps() * numMapTasks));
 		if (numMapsBeforeReducers == 0)
 			++numMapsBeforeReducers;
 		if (numMapsBeforeReducers < 0 || numMapsBeforeReducers > numMapTasks)
@@ -348,8 +409,48 @@ public class BasicFIFOScheduler implements IWhatIfScheduler {
 	@Override
 	public double scheduleJobGetTime(Date submissionTime,
 			MRJobProfile jobProfile, Configuration conf) {
-		return scheduleJobGetJobInfo(submissionTime, jobProfile, conf)
-				.getDuration();
+		return scheduleJobGetTime(submissionTime, jobProfile,
+				new JobParameters(conf));
+	}
+
+	/**
+	 * @see IWhatIfScheduler#scheduleJobGetTime(Date, MRJobProfile,
+	 *      JobParameters)
+	 */
+	@Override
+	public double scheduleJobGetTime(Date submissionTime,
+			MRJobProfile jobProfile, JobParameters params) {
+
+		// The fast path requires at least one map task
+		int numMapTasks = (int) jobProfile.getCounter(MRCounter.MAP_TASKS, 0l);
+		if (numMapTasks <= 0 || jobProfile.getMapProfiles().isEmpty())
+			return scheduleJobGetJobInfo(submissionTime, jobProfile, params)
+					.getDuration();
+
+		long jobStartTime = Math.max(mapSlots.peek().getReadyTime().getTime(),
+				submissionTime.getTime())
+				+ HEARTBEAT_DELAY;
+		return scheduleJobGetEndTime(submissionTime.getTime(), jobProfile,
+				params, numMapTasks)
+				- jobStartTime;
+	}
+
+	/**
+	 * @see IWhatIfScheduler#scheduleJobGetEndTime(Date, MRJobProfile,
+	 *      JobParameters)
+	 */
+	@Override
+	public Date scheduleJobGetEndTime(Date submissionTime,
+			MRJobProfile jobProfile, JobParameters params) {
+
+		// The fast path requires at least one map task
+		int numMapTasks = (int) jobProfile.getCounter(MRCounter.MAP_TASKS, 0l);
+		if (numMapTasks <= 0 || jobProfile.getMapProfiles().isEmpty())
+			return scheduleJobGetJobInfo(submissionTime, jobProfile, params)
+					.getEndTime();
+
+		return new Date(scheduleJobGetEndTime(submissionTime.getTime(),
+				jobProfile, params, numMapTasks));
 	}
 
 	/**
@@ -365,6 +466,209 @@ public class BasicFIFOScheduler implements IWhatIfScheduler {
 	 * ***************************************************************
 	 */
 
+	/**
+	 * Allocate the reusable buffers used for computing the job duration
+	 */
+	private void initBuffers() {
+		this.mapHeap = new SlotHeap(mapSlots.size());
+		this.redHeap = new SlotHeap(redSlots.size());
+		this.mapEndTimes = new long[16];
+		this.mapProfOrder = new int[4];
+		this.mapProfSizes = new long[4];
+	}
+
+	/**
+	 * Simulates the job execution exactly like
+	 * {@link #scheduleJobGetJobInfo(Date, MRJobProfile, JobParameters)} but
+	 * only keeps track of the times (in ms) using primitive arrays. No task,
+	 * attempt, or id objects are created, and the job profile is not modified.
+	 * The task slots are left in the same state as the full schedule would
+	 * leave them.
+	 * 
+	 * @param submissionTime
+	 *            the job submission time
+	 * @param jobProfile
+	 *            the job profile
+	 * @param params
+	 *            the configuration parameters
+	 * @param numMapTasks
+	 *            the (positive) number of map tasks
+	 * @return the job end time
+	 */
+	private long scheduleJobGetEndTime(long submissionTime,
+			MRJobProfile jobProfile, JobParameters params, int numMapTasks) {
+
+		mapHeap.load(mapSlots);
+
+		// Find the job start time
+		long jobStartTime = Math.max(mapHeap.peekTime(), submissionTime)
+				+ HEARTBEAT_DELAY;
+
+		// Schedule the setup task on a map slot and start the maps after it
+		long mapsStartTime = Math.max(mapHeap.peekTime(), jobStartTime)
+				+ HALF_HEARTBEAT_DELAY + SETUP_CLEANUP_TIME;
+		mapHeap.updatePeek(mapsStartTime);
+
+		// Schedule all the map tasks in decreasing order of input size
+		List<MRMapProfile> mapProfs = jobProfile.getMapProfiles();
+		int numMapProfs = mapProfs.size();
+		sortMapProfiles(mapProfs);
+
+		int numScheduledMaps = 0;
+		long lastMapEndTime = mapsStartTime;
+		int lastMapTaskSlot = -1;
+
+		for (int p = 0; p < numMapProfs; ++p) {
+			MRMapProfile mapProf = mapProfs.get(mapProfOrder[p]);
+			long execTime = (long) (sumTimings(mapProf.getTimings())
+					+ HALF_HEARTBEAT_DELAY);
+
+			int numTasks = mapProf.getNumTasks();
+			if (mapEndTimes.length < numScheduledMaps + numTasks)
+				mapEndTimes = Arrays.copyOf(mapEndTimes, Math.max(
+						2 * mapEndTimes.length, numScheduledMaps + numTasks));
+
+			for (int i = 0; i < numTasks; ++i) {
+				long endTime = Math.max(mapHeap.peekTime(), mapsStartTime)
+						+ HALF_HEARTBEAT_DELAY + execTime;
+				int slot = mapHeap.updatePeek(endTime);
+				mapEndTimes[numScheduledMaps++] = endTime;
+
+				// Keep track of the last map end time
+				if (lastMapEndTime < endTime) {
+					lastMapEndTime = endTime;
+					lastMapTaskSlot = slot;
+				}
+			}
+		}
+
+		// Stop here if there are no reducers or asked to
+		List<MRReduceProfile> redProfiles = jobProfile.getReduceProfiles();
+		if (redProfiles.size() == 0 || ignoreReducers) {
+
+			// Schedule the cleanup task on the slot run the last map
+			long cleanupEndTime = Math.max(mapHeap.getTime(lastMapTaskSlot),
+					lastMapEndTime)
+					+ HALF_HEARTBEAT_DELAY + SETUP_CLEANUP_TIME;
+			mapHeap.setTime(lastMapTaskSlot, cleanupEndTime);
+			mapHeap.store(mapSlots);
+
+			return cleanupEndTime + HEARTBEAT_DELAY;
+		}
+		mapHeap.store(mapSlots);
+
+		// Calculate the number of completed maps before reducers start
+		int numMapsBeforeReducers = (int) Math.ceil((params
+				.getRedSlowstartMaps() * numMapTasks));
+		if (numMapsBeforeReducers == 0)
+			++numMapsBeforeReducers;
+		if (numMapsBeforeReducers < 0 || numMapsBeforeReducers > numMapTasks)
+			throw new RuntimeException("ERROR: The number of maps to complete "
+					+ "before reducers can start is out of range: "
+					+ numMapsBeforeReducers);
+
+		// All reducers will start after some number of maps have completed
+		Arrays.sort(mapEndTimes, 0, numScheduledMaps);
+		long redSlowStartTime = mapEndTimes[numMapsBeforeReducers - 1];
+
+		// Schedule all the reduce tasks
+		redHeap.load(redSlots);
+		long lastReduceEndTime = lastMapEndTime;
+		int lastRedTaskSlot = -1;
+
+		for (MRReduceProfile redProfile : redProfiles) {
+			double shuffleTime = redProfile.getTiming(MRTaskPhase.SHUFFLE, 0d);
+			double sortTime = redProfile.getTiming(MRTaskPhase.SORT, 0d);
+			double redTime = sumTimings(redProfile.getTimings()) - sortTime
+					- shuffleTime + HALF_HEARTBEAT_DELAY;
+
+			int numRedTasks = redProfile.getNumTasks();
+			for (int i = 0; i < numRedTasks; ++i) {
+
+				// Same computations as in scheduleReduceExecution
+				long startTime = Math.max(redHeap.peekTime(), redSlowStartTime)
+						+ HALF_HEARTBEAT_DELAY;
+				long endShuffleTime;
+				if (startTime < lastMapEndTime
+						&& shuffleTime <= lastMapEndTime - startTime) {
+					endShuffleTime = lastMapEndTime
+							+ (long) (shuffleTime / numMapTasks);
+				} else {
+					endShuffleTime = startTime + (long) shuffleTime;
+				}
+				long endTime = endShuffleTime + (long) sortTime
+						+ (long) redTime;
+				int slot = redHeap.updatePeek(endTime);
+
+				// Keep track of the last reduce end time
+				if (lastReduceEndTime < endTime) {
+					lastReduceEndTime = endTime;
+					lastRedTaskSlot = slot;
+				}
+			}
+		}
+
+		if (lastRedTaskSlot < 0)
+			throw new RuntimeException("ERROR: No reduce task ended after "
+					+ "the last map task");
+
+		// Schedule the cleanup task on the slot run the last reduce
+		long cleanupEndTime = Math.max(redHeap.getTime(lastRedTaskSlot),
+				lastReduceEndTime)
+				+ HALF_HEARTBEAT_DELAY + SETUP_CLEANUP_TIME;
+		redHeap.setTime(lastRedTaskSlot, cleanupEndTime);
+		redHeap.store(redSlots);
+
+		return cleanupEndTime + HEARTBEAT_DELAY;
+	}
+
+	/**
+	 * Sets mapProfOrder to the order the map profiles get scheduled in, i.e.,
+	 * the same stable order by decreasing input size that the full schedule
+	 * uses, without modifying the list.
+	 * 
+	 * @param mapProfs
+	 *            the map profiles
+	 */
+	private void sortMapProfiles(List<MRMapProfile> mapProfs) {
+
+		int numMapProfs = mapProfs.size();
+		if (mapProfOrder.length < numMapProfs) {
+			mapProfOrder = new int[numMapProfs];
+			mapProfSizes = new long[numMapProfs];
+		}
+
+		// Insertion sort is stable and the number of profiles is small
+		for (int p = 0; p < numMapProfs; ++p) {
+			MRMapProfile mapProf = mapProfs.get(p);
+			long size = mapProf.getCounter(MRCounter.HDFS_BYTES_READ,
+					mapProf.getCounter(MRCounter.S3N_BYTES_READ, 0l));
+
+			int pos = p;
+			while (pos > 0 && mapProfSizes[pos - 1] < size) {
+				mapProfSizes[pos] = mapProfSizes[pos - 1];
+				mapProfOrder[pos] = mapProfOrder[pos - 1];
+				--pos;
+			}
+			mapProfSizes[pos] = size;
+			mapProfOrder[pos] = p;
+		}
+	}
+
+	/**
+	 * Adds up the sub-phase timings in the same order as the full schedule
+	 * 
+	 * @param timings
+	 *            the phase timings
+	 * @return the sum of the timings
+	 */
+	private static double sumTimings(Map<MRTaskPhase, Double> timings) {
+		double sum = 0d;
+		for (Double subTime : timings.values())
+			sum += subTime;
+		return sum;
+	}
+
 	/**
 	 * Build and return a virtual task attempt id
 	 * 
@@ -599,6 +903,18 @@ public class BasicFIFOScheduler implements IWhatIfScheduler {
 			this.readyTime = launchTime;
 		}
 
+		/**
+		 * Copy constructor
+		 * 
+		 * @param other
+		 *            the task slot to copy from
+		 */
+		public TaskSlot(TaskSlot other) {
+			this.taskTracker = other.taskTracker;
+			this.checkpointTime = other.checkpointTime;
+			this.readyTime = other.readyTime;
+		}
+
 		/**
 		 * @return the task tracker
 		 */
@@ -613,6 +929,14 @@ public class BasicFIFOScheduler implements IWhatIfScheduler {
 			return readyTime;
 		}
 
+		/**
+		 * @param readyTime
+		 *            the earliest time this slot can schedule a task
+		 */
+		public void setReadyTime(Date readyTime) {
+			this.readyTime = readyTime;
+		}
+
 		/**
 		 * Checkpoint the ready time
 		 */
@@ -642,4 +966,143 @@ public class BasicFIFOScheduler implements IWhatIfScheduler {
 
 	}
 
+
+	/**
+	 * A binary min-heap over the ready times (in ms) of a set of task slots,
+	 * used for computing the job duration without allocating any objects.
+	 * Slots are identified by their position in the slot array. The ready
+	 * times are loaded from and stored back into the actual task slots.
+	 * 
+	 * @author hero
+	 */
+	private class SlotHeap {
+
+		private TaskSlot[] slots; // The task slots
+		private long[] times; // The ready time of each slot
+		private int[] heap; // The heap of slot positions
+		private int size; // The number of slots
+
+		/**
+		 * Constructor
+		 * 
+		 * @param capacity
+		 *            the expected number of slots
+		 */
+		public SlotHeap(int capacity) {
+			capacity = Math.max(capacity, 1);
+			this.slots = new TaskSlot[capacity];
+			this.times = new long[capacity];
+			this.heap = new int[capacity];
+			this.size = 0;
+		}
+
+		/**
+		 * Load the ready times of the task slots in the queue
+		 * 
+		 * @param queue
+		 *            the queue of task slots
+		 */
+		public void load(PriorityQueue<TaskSlot> queue) {
+			size = queue.size();
+			if (slots.length < size) {
+				slots = new TaskSlot[size];
+				times = new long[size];
+				heap = new int[size];
+			}
+
+			int i = 0;
+			for (TaskSlot slot : queue) {
+				slots[i] = slot;
+				times[i] = slot.getReadyTime().getTime();
+				heap[i] = i;
+				++i;
+			}
+
+			for (i = size / 2 - 1; i >= 0; --i)
+				siftDown(i);
+		}
+
+		/**
+		 * Store the ready times back into the task slots and rebuild the
+		 * queue, since the ordering of the slots has changed
+		 * 
+		 * @param queue
+		 *            the queue of task slots
+		 */
+		public void store(PriorityQueue<TaskSlot> queue) {
+			queue.clear();
+			for (int i = 0; i < size; ++i) {
+				if (slots[i].getReadyTime().getTime() != times[i])
+					slots[i].setReadyTime(new Date(times[i]));
+				queue.add(slots[i]);
+			}
+		}
+
+		/**
+		 * @return the earliest ready time
+		 */
+		public long peekTime() {
+			return times[heap[0]];
+		}
+
+		/**
+		 * Schedule a task on the slot with the earliest ready time
+		 * 
+		 * @param readyTime
+		 *            the new ready time of the slot
+		 * @return the slot position
+		 */
+		public int updatePeek(long readyTime) {
+			int slot = heap[0];
+			times[slot] = readyTime;
+			siftDown(0);
+			return slot;
+		}
+
+		/**
+		 * @param slot
+		 *            the slot position
+		 * @return the ready time of the slot
+		 */
+		public long getTime(int slot) {
+			return times[slot];
+		}
+
+		/**
+		 * Set the ready time of a slot. The heap is not maintained, so it
+		 * must not be used afterwards, other than for storing the times.
+		 * 
+		 * @param slot
+		 *            the slot position
+		 * @param readyTime
+		 *            the new ready time of the slot
+		 */
+		public void setTime(int slot, long readyTime) {
+			times[slot] = readyTime;
+		}
+
+		/**
+		 * Restore the heap property starting from a heap position
+		 * 
+		 * @param pos
+		 *            the heap position
+		 */
+		private void siftDown(int pos) {
+			int slot = heap[pos];
+			long time = times[slot];
+			int half = size / 2;
+			while (pos < half) {
+				int child = 2 * pos + 1;
+				int right = child + 1;
+				if (right < size && times[heap[right]] < times[heap[child]])
+					child = right;
+				if (time <= times[heap[child]])
+					break;
+				heap[pos] = heap[child];
+				pos = child;
+			}
+			heap[pos] = slot;
+		}
+	}
+
 }
@@ -1,8 +1,5 @@
 package edu.duke.starfish.whatif.scheduler;
 
-import static edu.duke.starfish.profile.utils.Constants.DEF_RED_SLOWSTART_MAPS;
-import static edu.duke.starfish.profile.utils.Constants.MR_RED_SLOWSTART_MAPS;
-
 import java.util.Date;
 import java.util.PriorityQueue;
 
@@ -16,6 +13,7 @@ import edu.duke.starfish.profile.profileinfo.execution.profile.MRReduceProfile;
 import edu.duke.starfish.profile.profileinfo.execution.profile.enums.MRCounter;
 import edu.duke.starfish.profile.profileinfo.execution.profile.enums.MRTaskPhase;
 import edu.duke.starfish.profile.profileinfo.setup.TaskTrackerInfo;
+import edu.duke.starfish.whatif.data.JobParameters;
 
 /**
  * A basic FIFO scheduler that simulates the execution of a MapReduce on a
@@ -96,6 +94,18 @@ public class BasicFIFOSchedulerForOptimizer implements IWhatIfScheduler {
 			slot.reset();
 	}
 
+	/**
+	 * @see IWhatIfScheduler#copy()
+	 */
+	@Override
+	public IWhatIfScheduler copy() {
+		// Checkpointing is not supported so a fresh scheduler is equivalent
+		BasicFIFOSchedulerForOptimizer copy = new BasicFIFOSchedulerForOptimizer(
+				cluster);
+		copy.setIgnoreReducers(ignoreReducers);
+		return copy;
+	}
+
 	/**
 	 * @see IWhatIfScheduler#getCluster()
 	 */
@@ -111,10 +121,32 @@ public class BasicFIFOSchedulerForOptimizer implements IWhatIfScheduler {
 	@Override
 	public MRJobInfo scheduleJobGetJobInfo(Date submissionTime,
 			MRJobProfile jobProfile, Configuration conf) {
+		return scheduleJobGetJobInfo(submissionTime, jobProfile,
+				new JobParameters(conf));
+	}
+
+	/**
+	 * @see IWhatIfScheduler#scheduleJobGetJobInfo(Date, MRJobProfile,
+	 *      JobParameters)
+	 */
+	@Override
+	public MRJobInfo scheduleJobGetJobInfo(Date submissionTime,
+			MRJobProfile jobProfile, JobParameters params) {
 		throw new RuntimeException("ERROR: The BasicFIFOSchedulerForOptimizer "
 				+ "does not support the method scheduleJobGetJobInfo");
 	}
 
+	/**
+	 * @see IWhatIfScheduler#scheduleJobGetEndTime(Date, MRJobProfile,
+	 *      JobParameters)
+	 */
+	@Override
+	public Date scheduleJobGetEndTime(Date submissionTime,
+			MRJobProfile jobProfile, JobParameters params) {
+		throw new RuntimeException("ERROR: The BasicFIFOSchedulerForOptimizer "
+				+ "does not support the method scheduleJobGetEndTime");
+	}
+
 	/**
 	 * @see IWhatIfScheduler#scheduleJobGetTime(Date, MRJobProfile,
 	 *      Configuration)
@@ -122,11 +154,22 @@ public class BasicFIFOSchedulerForOptimizer implements IWhatIfScheduler {
 	@Override
 	public double scheduleJobGetTime(Date submissionTime,
 			MRJobProfile jobProfile, Configuration conf) {
+		return scheduleJobGetTime(submissionTime, jobProfile,
+				new JobParameters(conf));
+	}
+
+	/**
+	 * @see IWhatIfScheduler#scheduleJobGetTime(Date, MRJobProfile,
+	 *      JobParameters)
+	 */
+	@Override
+	public double scheduleJobGetTime(Date submissionTime,
+			MRJobProfile jobProfile, JobParameters params) {
 
 		// Calculate the number of completed maps before reducers start
 		int numMapTasks = jobProfile.getCounter(MRCounter.MAP_TASKS).intValue();
-		int numMapsBeforeReducers = (int) Math.ceil((conf.getFloat(
-				MR_RED_SLOWSTART_MAPS, DEF_RED_SLOWSTART_MAPS) * numMapTasks));
+		int numMapsBeforeReducers = (int) Math.ceil((params
+				.getRedSlowstartMaps() * numMapTasks));
 		double reducerStartTime = 0d;
 
 		// Schedule all the map tasks
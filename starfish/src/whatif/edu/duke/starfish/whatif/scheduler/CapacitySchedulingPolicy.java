@@ -0,0 +1,187 @@
+package edu.duke.starfish.whatif.scheduler;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.apache.hadoop.conf.Configuration;
+
+/**
+ * The scheduling policy of the Hadoop Capacity Scheduler. Jobs are placed in
+ * queues based on the 'mapred.job.queue.name' parameter. A free slot is given
+ * to the queue that uses the smallest fraction of its capacity, and within
+ * the queue to the earliest submitted job. A queue can use the idle capacity
+ * of other queues, up to its maximum capacity.
+ * 
+ * The capacities are read from the capacity scheduler parameters
+ * 'mapred.capacity-scheduler.queue.&lt;queue&gt;.capacity' and
+ * 'mapred.capacity-scheduler.queue.&lt;queue&gt;.maximum-capacity' (as
+ * percentages of the cluster slots). The queues without a configured capacity
+ * share the remaining capacity equally.
+ * 
+ * @author hero
+ */
+public class CapacitySchedulingPolicy implements ISchedulingPolicy {
+
+	/* ***************************************************************
+	 * DATA MEMBERS
+	 * ***************************************************************
+	 */
+
+	private Map<String, Float> capacities; // The queue capacities
+	private Map<String, Float> maxCapacities; // The max queue capacities
+	private float totalCapacity; // The total configured capacity
+
+	// Constants
+	private static final String MR_QUEUE_NAME = "mapred.job.queue.name";
+	private static final String DEFAULT_QUEUE = "default";
+	private static final Pattern CAPACITY_PATTERN = Pattern
+			.compile("mapred\\.capacity-scheduler\\.queue\\.(.+)\\.(capacity|maximum-capacity)");
+	private static final String CAPACITY = "capacity";
+
+	/**
+	 * Constructor
+	 * 
+	 * @param conf
+	 *            the capacity scheduler configuration
+	 */
+	public CapacitySchedulingPolicy(Configuration conf) {
+		this.capacities = new HashMap<String, Float>();
+		this.maxCapacities = new HashMap<String, Float>();
+		this.totalCapacity = 0f;
+
+		for (Entry<String, String> entry : conf) {
+			Matcher m = CAPACITY_PATTERN.matcher(entry.getKey());
+			if (m.matches()) {
+				float value = conf.getFloat(entry.getKey(), -1f);
+				if (m.group(2).equals(CAPACITY)) {
+					setQueueCapacity(m.group(1), value);
+				} else if (value > 0) {
+					maxCapacities.put(m.group(1), value);
+				}
+			}
+		}
+	}
+
+	/* ***************************************************************
+	 * PUBLIC METHODS
+	 * ***************************************************************
+	 */
+
+	/**
+	 * @param queue
+	 *            the queue name
+	 * @return the configured capacity of the queue (as a percentage), or -1
+	 *         if the queue does not have a configured capacity
+	 */
+	public float getQueueCapacity(String queue) {
+		Float capacity = capacities.get(queue);
+		return capacity == null ? -1f : capacity;
+	}
+
+	/**
+	 * @param queue
+	 *            the queue name
+	 * @return the maximum capacity of the queue (as a percentage), or -1 if
+	 *         the queue does not have a limit
+	 */
+	public float getQueueMaxCapacity(String queue) {
+		Float capacity = maxCapacities.get(queue);
+		return capacity == null ? -1f : capacity;
+	}
+
+	/**
+	 * Set the capacity of a queue
+	 * 
+	 * @param queue
+	 *            the queue name
+	 * @param capacity
+	 *            the capacity as a percentage of the cluster slots
+	 */
+	public void setQueueCapacity(String queue, float capacity) {
+		if (capacity < 0 || capacity > 100)
+			throw new RuntimeException("ERROR: The capacity of the queue "
+					+ queue + " is out of range: " + capacity);
+
+		Float old = capacities.put(queue, capacity);
+		totalCapacity += capacity - (old == null ? 0f : old);
+		if (totalCapacity > 100.001f)
+			throw new RuntimeException("ERROR: The sum of the queue "
+					+ "capacities exceeds 100%: " + totalCapacity);
+	}
+
+	/* ***************************************************************
+	 * OVERRIDEN METHODS
+	 * ***************************************************************
+	 */
+
+	/**
+	 * @see ISchedulingPolicy#getJobGroup(Configuration)
+	 */
+	@Override
+	public String getJobGroup(Configuration conf) {
+		return conf.get(MR_QUEUE_NAME, DEFAULT_QUEUE);
+	}
+
+	/**
+	 * @see ISchedulingPolicy#selectJob(List, int, boolean, int)
+	 */
+	@Override
+	public SimulatedJob selectJob(List<SimulatedJob> jobs, int numGroups,
+			boolean isMap, int totalSlots) {
+
+		// Find the running tasks and the capacity of each queue
+		int[] running = new int[numGroups];
+		boolean[] pending = new boolean[numGroups];
+		float[] capacity = new float[numGroups];
+		boolean[] visited = new boolean[numGroups];
+		int numUnconfigured = 0;
+		for (int j = 0; j < jobs.size(); ++j) {
+			SimulatedJob job = jobs.get(j);
+			int q = job.getGroupIndex();
+			running[q] += job.getNumRunningTasks(isMap);
+			if (job.getNumPendingTasks(isMap) > 0)
+				pending[q] = true;
+			if (!visited[q]) {
+				visited[q] = true;
+				capacity[q] = getQueueCapacity(job.getGroup());
+				if (capacity[q] < 0)
+					++numUnconfigured;
+			}
+		}
+		float sharedCapacity = numUnconfigured == 0 ? 0f : Math.max(0f,
+				100f - totalCapacity)
+				/ numUnconfigured;
+
+		// Find the queue using the smallest fraction of its capacity (the
+		// queues are visited in the order of their earliest job)
+		SimulatedJob bestJob = null;
+		double bestUsage = Double.MAX_VALUE;
+		for (int j = 0; j < jobs.size(); ++j) {
+			SimulatedJob job = jobs.get(j);
+			int q = job.getGroupIndex();
+			if (!pending[q] || job.getNumPendingTasks(isMap) == 0)
+				continue;
+			pending[q] = false;
+
+			// The first pending job of the queue is the candidate
+			float maxCapacity = getQueueMaxCapacity(job.getGroup());
+			if (maxCapacity > 0 && running[q] >= maxCapacity * totalSlots / 100)
+				continue;
+			float queueCapacity = capacity[q] < 0 ? sharedCapacity
+					: capacity[q];
+			double usage = running[q]
+					/ Math.max(queueCapacity * totalSlots / 100d, 1d);
+			if (usage < bestUsage) {
+				bestUsage = usage;
+				bestJob = job;
+			}
+		}
+
+		return bestJob;
+	}
+
+}
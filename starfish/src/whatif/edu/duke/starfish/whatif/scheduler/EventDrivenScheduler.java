@@ -0,0 +1,1670 @@
+package edu.duke.starfish.whatif.scheduler;
+
+import java.text.NumberFormat;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.apache.hadoop.conf.Configuration;
+
+import edu.duke.starfish.profile.profileinfo.ClusterConfiguration;
+import edu.duke.starfish.profile.profileinfo.execution.DataLocality;
+import edu.duke.starfish.profile.profileinfo.execution.MRExecutionStatus;
+import edu.duke.starfish.profile.profileinfo.execution.jobs.MRJobInfo;
+import edu.duke.starfish.profile.profileinfo.execution.mrtaskattempts.MRCleanupAttemptInfo;
+import edu.duke.starfish.profile.profileinfo.execution.mrtaskattempts.MRMapAttemptInfo;
+import edu.duke.starfish.profile.profileinfo.execution.mrtaskattempts.MRReduceAttemptInfo;
+import edu.duke.starfish.profile.profileinfo.execution.mrtaskattempts.MRSetupAttemptInfo;
+import edu.duke.starfish.profile.profileinfo.execution.mrtasks.MRCleanupInfo;
+import edu.duke.starfish.profile.profileinfo.execution.mrtasks.MRMapInfo;
+import edu.duke.starfish.profile.profileinfo.execution.mrtasks.MRReduceInfo;
+import edu.duke.starfish.profile.profileinfo.execution.mrtasks.MRSetupInfo;
+import edu.duke.starfish.profile.profileinfo.execution.profile.MRJobProfile;
+import edu.duke.starfish.profile.profileinfo.execution.profile.MRMapProfile;
+import edu.duke.starfish.profile.profileinfo.execution.profile.MRReduceProfile;
+import edu.duke.starfish.profile.profileinfo.execution.profile.enums.MRCostFactors;
+import edu.duke.starfish.profile.profileinfo.execution.profile.enums.MRCounter;
+import edu.duke.starfish.profile.profileinfo.execution.profile.enums.MRTaskPhase;
+import edu.duke.starfish.profile.profileinfo.setup.TaskTrackerInfo;
+import edu.duke.starfish.profile.utils.Constants;
+import edu.duke.starfish.whatif.data.JobParameters;
+import edu.duke.starfish.whatif.virtualfs.VirtualBlockPlacement;
+import edu.duke.starfish.whatif.virtualfs.VirtualFSDataSetModel;
+import edu.duke.starfish.whatif.virtualfs.VirtualFileSystem;
+
+/**
+ * A discrete-event simulator of a Hadoop cluster that runs many jobs
+ * concurrently. Unlike the {@link BasicFIFOScheduler}, which places the tasks
+ * of one job at a time on the earliest available slots, this scheduler
+ * simulates the interactions between the JobTracker and the TaskTrackers:
+ * 
+ * <ul>
+ * <li>Each task tracker sends a heartbeat every few seconds (the interval
+ * grows with the cluster size, like in Hadoop). The heartbeats of different
+ * task trackers are spread over the interval.</li>
+ * <li>A task tracker reports its completed tasks and gets new tasks only on a
+ * heartbeat. A heartbeat gets a setup or cleanup task, or else fills all the
+ * free map slots and gets at most one reduce task.</li>
+ * <li>The scheduling policy ({@link ISchedulingPolicy}) decides which job
+ * gets each free slot, e.g., FIFO, Fair, or Capacity.</li>
+ * <li>The reducers of a job start after a fraction of its map tasks have
+ * completed (reducer slow start), and their shuffle completes only after
+ * the last map task completes.</li>
+ * </ul>
+ * 
+ * In the locality-aware mode (see {@link #setLocalityAware(boolean)}), the
+ * input blocks of the map tasks are placed on the hosts like HDFS does (see
+ * {@link VirtualBlockPlacement}), using the input files in the virtual file
+ * system when one is set. A task tracker then gets a map task with data on
+ * its host, or else on its rack, or else any map task, like the Hadoop
+ * JobTracker. Rack-local maps read their input over the network, while
+ * off-rack maps also pay for the oversubscription of the core switches. The
+ * data locality of each map shows up in the returned job execution.
+ * 
+ * The scheduler keeps all the jobs submitted since the last reset (see
+ * {@link #submitJob(Date, MRJobProfile, JobParameters)} for adding a
+ * background workload). Each scheduleJobX method adds one more job and
+ * simulates all the jobs together, so it answers what-if questions like
+ * "what if this job runs during the nightly peak". The returned time
+ * includes any time the job waits for the other jobs.
+ * 
+ * The events are kept in a binary heap, so each event costs O(log n) and the
+ * simulation of thousands of concurrent tasks on large clusters is fast.
+ * 
+ * @author hero
+ */
+public class EventDrivenScheduler implements IWhatIfScheduler {
+
+	/* ***************************************************************
+	 * DATA MEMBERS
+	 * ***************************************************************
+	 */
+
+	// Simulation setup
+	private ClusterConfiguration cluster; // The cluster
+	private ISchedulingPolicy policy; // The scheduling policy
+	private TaskTrackerInfo[] trackers; // The task trackers
+	private int totalMapSlots; // The total number of map slots
+	private int totalRedSlots; // The total number of reduce slots
+	private long heartbeatInterval; // The heartbeat interval
+	private boolean ignoreReducers; // Flag to not schedule the reducers
+
+	// Data locality
+	private boolean localityAware; // Whether maps are placed near their data
+	private double rackOversubscription; // The slowdown of off-rack reads
+	private VirtualFileSystem vfs; // The file system with the input files
+	private VirtualBlockPlacement placement; // The placement of the blocks
+	private int[] trackerHosts; // The host index of each tracker
+	private int[] trackerRacks; // The rack index of each tracker
+
+	// The submitted jobs
+	private List<JobSpec> jobSpecs; // The submitted jobs
+	private int numCheckpointJobs; // The number of jobs at the checkpoint
+
+	// Reusable simulation state
+	private EventQueue events; // The pending events
+	private long[] nextHeartbeat; // The next heartbeat of each tracker
+	private int[] freeMapSlots; // The free map slots of each tracker
+	private int[] freeRedSlots; // The free reduce slots of each tracker
+	private int[] reportHead; // The completed tasks of each tracker
+	private List<SimulatedJob> activeJobs; // The active jobs
+	private List<SimulatedJob> pendingSetupCleanup; // Waiting for a slot
+	private int numPendingCleanups; // The cleanup tasks waiting for a slot
+	private int numAvailMaps; // The map tasks that can be launched
+	private int numAvailReds; // The reduce tasks that can be launched
+	private int numGroups; // The number of job groups
+
+	// The launched tasks (one entry per task)
+	private int numTasks; // The number of launched tasks
+	private int[] taskJob; // The job index
+	private byte[] taskType; // The task type
+	private int[] taskIndex; // The task index in the job
+	private int[] taskTracker; // The task tracker index
+	private int[] taskNext; // The next task in the report list
+	private long[] taskStart; // The start time
+	private long[] taskEnd; // The end time
+	private long[] taskShuffleEnd; // The shuffle end time (for reducers)
+	private long[] taskSortEnd; // The sort end time (for reducers)
+	private byte[] taskLocality; // The data locality (for maps)
+
+	// Constants
+	private static final long HEARTBEAT_INTERVAL_MIN = 3000l;
+	private static final int HEARTBEATS_PER_SECOND = 100;
+	private static final long SETUP_CLEANUP_TIME = 3000l;
+	private static final long NO_HEARTBEAT = Long.MAX_VALUE;
+
+	private static final int EVENT_COMPLETE = 0;
+	private static final int EVENT_SUBMIT = 1;
+	private static final int EVENT_HEARTBEAT = 2;
+
+	private static final byte TASK_SETUP = 0;
+	private static final byte TASK_MAP = 1;
+	private static final byte TASK_REDUCE = 2;
+	private static final byte TASK_MAP_CLEANUP = 3; // Cleanup on a map slot
+	private static final byte TASK_RED_CLEANUP = 4; // Cleanup on a red slot
+
+	private static final byte DATA_LOCAL = 0;
+	private static final byte RACK_LOCAL = 1;
+	private static final byte NON_LOCAL = 2;
+	private static final DataLocality[] LOCALITIES = { DataLocality.DATA_LOCAL,
+			DataLocality.RACK_LOCAL, DataLocality.NON_LOCAL };
+
+	private static final double DEF_RACK_OVERSUBSCRIPTION = 4d;
+	private static final double DEF_NETWORK_COST = 8d; // ns/byte, 1 Gbit/s
+
+	private static final String JOB_NAME = "Virtual Job";
+	private static final String USER_NAME = "Virtual User";
+	private static final String VIRTUAL_TASK = "virtual_task_";
+	private static final String VIRTUAL_ATTEMPT = "virtual_attempt_";
+	private static final String U_MAP_U = "_m_";
+	private static final String U_RED_U = "_r_";
+	private static final Pattern JOB_ID_PATTERN = Pattern
+			.compile(".*_([0-9]+_[0-9]+)");
+
+	public static final String LOCALITY_AWARE = "starfish.whatif.locality.aware";
+	public static final String RACK_OVERSUBSCRIPTION = "starfish.whatif.rack.oversubscription";
+	public static final String VIRTUAL_FS_FILE = "starfish.whatif.virtual.fs.file";
+
+	// NumberFormat is not thread-safe, so each scheduler keeps its own
+	private final NumberFormat nf = NumberFormat.getInstance();
+
+	{
+		nf.setMinimumIntegerDigits(6);
+		nf.setGroupingUsed(false);
+	}
+
+	/**
+	 * Constructor
+	 * 
+	 * @param cluster
+	 *            the cluster to schedule tasks on
+	 * @param policy
+	 *            the scheduling policy
+	 */
+	public EventDrivenScheduler(ClusterConfiguration cluster,
+			ISchedulingPolicy policy) {
+		this.cluster = cluster;
+		this.policy = policy;
+
+		// Order the task trackers by name for a deterministic simulation
+		this.trackers = cluster.getAllTaskTrackersInfos().toArray(
+				new TaskTrackerInfo[0]);
+		Arrays.sort(trackers, new Comparator<TaskTrackerInfo>() {
+			@Override
+			public int compare(TaskTrackerInfo t1, TaskTrackerInfo t2) {
+				return t1.getName().compareTo(t2.getName());
+			}
+		});
+
+		this.totalMapSlots = 0;
+		this.totalRedSlots = 0;
+		for (TaskTrackerInfo tracker : trackers) {
+			totalMapSlots += tracker.getNumMapSlots();
+			totalRedSlots += tracker.getNumReduceSlots();
+		}
+
+		this.heartbeatInterval = Math.max(HEARTBEAT_INTERVAL_MIN,
+				1000l * trackers.length / HEARTBEATS_PER_SECOND);
+		this.ignoreReducers = false;
+
+		this.localityAware = false;
+		this.rackOversubscription = DEF_RACK_OVERSUBSCRIPTION;
+		this.vfs = null;
+		this.placement = null;
+		this.trackerHosts = null;
+		this.trackerRacks = null;
+
+		this.jobSpecs = new ArrayList<JobSpec>();
+		this.numCheckpointJobs = 0;
+		initBuffers();
+	}
+
+	/**
+	 * Copy constructor. The new scheduler shares the cluster, the policy, and
+	 * the (immutable) submitted jobs with the other scheduler, but gets its
+	 * own simulation state.
+	 * 
+	 * @param other
+	 *            the scheduler to copy from
+	 */
+	public EventDrivenScheduler(EventDrivenScheduler other) {
+		this.cluster = other.cluster;
+		this.policy = other.policy;
+		this.trackers = other.trackers;
+		this.totalMapSlots = other.totalMapSlots;
+		this.totalRedSlots = other.totalRedSlots;
+		this.heartbeatInterval = other.heartbeatInterval;
+		this.ignoreReducers = other.ignoreReducers;
+
+		this.localityAware = other.localityAware;
+		this.rackOversubscription = other.rackOversubscription;
+		this.vfs = other.vfs;
+		this.placement = other.placement;
+		this.trackerHosts = other.trackerHosts;
+		this.trackerRacks = other.trackerRacks;
+
+		this.jobSpecs = new ArrayList<JobSpec>(other.jobSpecs);
+		this.numCheckpointJobs = other.numCheckpointJobs;
+		initBuffers();
+	}
+
+	/* ***************************************************************
+	 * PUBLIC METHODS
+	 * ***************************************************************
+	 */
+
+	/**
+	 * @return the heartbeat interval of the task trackers (in ms)
+	 */
+	public long getHeartbeatInterval() {
+		return heartbeatInterval;
+	}
+
+	/**
+	 * @return the number of jobs submitted since the last reset
+	 */
+	public int getNumJobs() {
+		return jobSpecs.size();
+	}
+
+	/**
+	 * @return the scheduling policy
+	 */
+	public ISchedulingPolicy getPolicy() {
+		return policy;
+	}
+
+	/**
+	 * @return the slowdown of off-rack reads compared to rack-local reads
+	 */
+	public double getRackOversubscription() {
+		return rackOversubscription;
+	}
+
+	/**
+	 * @return the virtual file system with the input files of the jobs (may
+	 *         be null)
+	 */
+	public VirtualFileSystem getVirtualFileSystem() {
+		return vfs;
+	}
+
+	/**
+	 * @return true if the map tasks are placed near their input data
+	 */
+	public boolean isLocalityAware() {
+		return localityAware;
+	}
+
+	/**
+	 * Set the heartbeat interval of the task trackers. By default, the
+	 * interval is 3 seconds and grows by 1 second for every 100 task
+	 * trackers, like in Hadoop.
+	 * 
+	 * @param heartbeatInterval
+	 *            the heartbeat interval (in ms)
+	 */
+	public void setHeartbeatInterval(long heartbeatInterval) {
+		if (heartbeatInterval <= 0)
+			throw new RuntimeException("ERROR: The heartbeat interval must be "
+					+ "positive: " + heartbeatInterval);
+		this.heartbeatInterval = heartbeatInterval;
+	}
+
+	/**
+	 * Set whether the map tasks are placed near their input data. The setting
+	 * applies to the jobs submitted afterwards.
+	 * 
+	 * @param localityAware
+	 *            true to place the map tasks near their input data
+	 */
+	public void setLocalityAware(boolean localityAware) {
+		this.localityAware = localityAware;
+	}
+
+	/**
+	 * Set the slowdown of off-rack reads compared to rack-local reads, i.e.,
+	 * the oversubscription ratio of the links between the racks. The default
+	 * value is 4.
+	 * 
+	 * @param rackOversubscription
+	 *            the oversubscription ratio (at least 1)
+	 */
+	public void setRackOversubscription(double rackOversubscription) {
+		if (rackOversubscription < 1d)
+			throw new RuntimeException("ERROR: The rack oversubscription "
+					+ "must be at least 1: " + rackOversubscription);
+		this.rackOversubscription = rackOversubscription;
+	}
+
+	/**
+	 * Set the virtual file system with the input files of the jobs. In the
+	 * locality-aware mode, the map tasks of a job with virtual input paths
+	 * (see {@link VirtualFSDataSetModel#VIRTUAL_INPUT_DIRS}) are placed near
+	 * the blocks of its input files. Otherwise, the input blocks of each job
+	 * are placed on random (but fixed) hosts.
+	 * 
+	 * @param vfs
+	 *            the virtual file system (may be null)
+	 */
+	public void setVirtualFileSystem(VirtualFileSystem vfs) {
+		this.vfs = vfs;
+	}
+
+	/**
+	 * Submit a job to the cluster without simulating it. The job will compete
+	 * for the slots with all the jobs submitted later. This method is useful
+	 * for creating a background workload (followed by a checkpoint) before
+	 * asking what-if questions about a job.
+	 * 
+	 * @param submissionTime
+	 *            the job submission time
+	 * @param jobProfile
+	 *            the virtual job profile
+	 * @param params
+	 *            the job configuration parameters
+	 */
+	public void submitJob(Date submissionTime, MRJobProfile jobProfile,
+			JobParameters params) {
+		JobSpec spec = new JobSpec(submissionTime.getTime(), jobProfile,
+				params, policy.getJobGroup(params.getConfiguration()),
+				ignoreReducers);
+		if (localityAware) {
+			initPlacement();
+			spec.initLocality(getMapReplicaHosts(spec, params
+					.getConfiguration()), placement);
+		}
+		jobSpecs.add(spec);
+	}
+
+	/* ***************************************************************
+	 * OVERRIDEN METHODS
+	 * ***************************************************************
+	 */
+
+	/**
+	 * @see IWhatIfScheduler#checkpoint()
+	 */
+	@Override
+	public void checkpoint() {
+		numCheckpointJobs = jobSpecs.size();
+	}
+
+	/**
+	 * @see IWhatIfScheduler#reset()
+	 */
+	@Override
+	public void reset() {
+		while (jobSpecs.size() > numCheckpointJobs)
+			jobSpecs.remove(jobSpecs.size() - 1);
+	}
+
+	/**
+	 * @see IWhatIfScheduler#copy()
+	 */
+	@Override
+	public IWhatIfScheduler copy() {
+		return new EventDrivenScheduler(this);
+	}
+
+	/**
+	 * @see IWhatIfScheduler#getCluster()
+	 */
+	@Override
+	public ClusterConfiguration getCluster() {
+		return cluster;
+	}
+
+	/**
+	 * @see IWhatIfScheduler#scheduleJobGetJobInfo(Date, MRJobProfile,
+	 *      Configuration)
+	 */
+	@Override
+	public MRJobInfo scheduleJobGetJobInfo(Date submissionTime,
+			MRJobProfile jobProfile, Configuration conf) {
+		return scheduleJobGetJobInfo(submissionTime, jobProfile,
+				new JobParameters(conf));
+	}
+
+	/**
+	 * @see IWhatIfScheduler#scheduleJobGetJobInfo(Date, MRJobProfile,
+	 *      JobParameters)
+	 */
+	@Override
+	public MRJobInfo scheduleJobGetJobInfo(Date submissionTime,
+			MRJobProfile jobProfile, JobParameters params) {
+		submitJob(submissionTime, jobProfile, params);
+		int target = jobSpecs.size() - 1;
+		long endTime = simulate(target);
+		return buildJobInfo(target, endTime);
+	}
+
+	/**
+	 * @see IWhatIfScheduler#scheduleJobGetTime(Date, MRJobProfile,
+	 *      Configuration)
+	 */
+	@Override
+	public double scheduleJobGetTime(Date submissionTime,
+			MRJobProfile jobProfile, Configuration conf) {
+		return scheduleJobGetTime(submissionTime, jobProfile,
+				new JobParameters(conf));
+	}
+
+	/**
+	 * @see IWhatIfScheduler#scheduleJobGetTime(Date, MRJobProfile,
+	 *      JobParameters)
+	 */
+	@Override
+	public double scheduleJobGetTime(Date submissionTime,
+			MRJobProfile jobProfile, JobParameters params) {
+		return scheduleJobGetEndTime(submissionTime, jobProfile, params)
+				.getTime()
+				- submissionTime.getTime();
+	}
+
+	/**
+	 * @see IWhatIfScheduler#scheduleJobGetEndTime(Date, MRJobProfile,
+	 *      JobParameters)
+	 */
+	@Override
+	public Date scheduleJobGetEndTime(Date submissionTime,
+			MRJobProfile jobProfile, JobParameters params) {
+		submitJob(submissionTime, jobProfile, params);
+		return new Date(simulate(jobSpecs.size() - 1));
+	}
+
+	/**
+	 * @see IWhatIfScheduler#setIgnoreReducers(boolean)
+	 */
+	@Override
+	public void setIgnoreReducers(boolean ignoreReducers) {
+		this.ignoreReducers = ignoreReducers;
+	}
+
+	/* ***************************************************************
+	 * PRIVATE METHODS
+	 * ***************************************************************
+	 */
+
+	/**
+	 * Initialize the reusable simulation buffers
+	 */
+	private void initBuffers() {
+		int numTrackers = trackers.length;
+		events = new EventQueue(2 * numTrackers + 16);
+		nextHeartbeat = new long[numTrackers];
+		freeMapSlots = new int[numTrackers];
+		freeRedSlots = new int[numTrackers];
+		reportHead = new int[numTrackers];
+		activeJobs = new ArrayList<SimulatedJob>();
+		pendingSetupCleanup = new ArrayList<SimulatedJob>();
+
+		numTasks = 0;
+		growTasks(64);
+	}
+
+	/**
+	 * Simulate the execution of all the submitted jobs until the target job
+	 * completes. The tasks of the target job are left in the task buffers.
+	 * 
+	 * @param target
+	 *            the index of the target job
+	 * @return the end time of the target job
+	 */
+	private long simulate(int target) {
+
+		if (totalMapSlots == 0)
+			throw new RuntimeException("ERROR: The cluster has no map slots");
+
+		// Initialize the simulation state
+		for (int k = 0; k < trackers.length; ++k) {
+			nextHeartbeat[k] = NO_HEARTBEAT;
+			freeMapSlots[k] = trackers[k].getNumMapSlots();
+			freeRedSlots[k] = trackers[k].getNumReduceSlots();
+			reportHead[k] = -1;
+		}
+		events.clear();
+		activeJobs.clear();
+		pendingSetupCleanup.clear();
+		numPendingCleanups = 0;
+		numAvailMaps = 0;
+		numAvailReds = 0;
+		numGroups = 0;
+		numTasks = 0;
+
+		int numJobs = jobSpecs.size();
+		SimulatedJob[] jobs = new SimulatedJob[numJobs];
+		Map<String, Integer> groups = new HashMap<String, Integer>();
+		for (int j = 0; j < numJobs; ++j)
+			events.add(jobSpecs.get(j).submissionTime, EVENT_SUBMIT, j);
+
+		// Process the events in order until the target job completes
+		while (jobs[target] == null || jobs[target].endTime < 0) {
+			if (events.isEmpty())
+				throw new RuntimeException("ERROR: The job cannot complete "
+						+ "on the cluster");
+
+			long time = events.peekTime();
+			int type = events.peekType();
+			int payload = events.peekPayload();
+			events.remove();
+
+			switch (type) {
+			case EVENT_SUBMIT:
+				JobSpec spec = jobSpecs.get(payload);
+				Integer group = groups.get(spec.group);
+				if (group == null) {
+					group = numGroups++;
+					groups.put(spec.group, group);
+				}
+				jobs[payload] = new SimulatedJob(payload, spec.group, group,
+						spec.submissionTime, spec.mapTimes.length,
+						spec.redShuffleTimes.length,
+						spec.numMapsBeforeReducers);
+				if (spec.hostMaps != null)
+					initMapPlacement(jobs[payload]);
+				activeJobs.add(jobs[payload]);
+				pendingSetupCleanup.add(jobs[payload]);
+				wakeTrackers(time, true, false);
+				break;
+
+			case EVENT_COMPLETE:
+				// The task tracker reports the task on its next heartbeat
+				int k = taskTracker[payload];
+				taskNext[payload] = reportHead[k];
+				reportHead[k] = payload;
+				scheduleHeartbeat(k, getHeartbeatAtOrAfter(k, time));
+				break;
+
+			case EVENT_HEARTBEAT:
+				// Skip heartbeats that were moved earlier
+				if (nextHeartbeat[payload] == time) {
+					nextHeartbeat[payload] = NO_HEARTBEAT;
+					processHeartbeat(payload, time, jobs);
+				}
+				break;
+
+			default:
+				throw new RuntimeException("ERROR: Unknown event type " + type);
+			}
+		}
+
+		return jobs[target].endTime;
+	}
+
+	/**
+	 * Process a heartbeat from a task tracker: report the completed tasks and
+	 * assign new tasks to the free slots.
+	 * 
+	 * @param k
+	 *            the task tracker index
+	 * @param time
+	 *            the heartbeat time
+	 * @param jobs
+	 *            the simulated jobs
+	 */
+	private void processHeartbeat(int k, long time, SimulatedJob[] jobs) {
+
+		// Report the completed tasks (in the order they completed)
+		int reported = reportHead[k];
+		reportHead[k] = -1;
+		int ordered = -1;
+		while (reported >= 0) {
+			int next = taskNext[reported];
+			taskNext[reported] = ordered;
+			ordered = reported;
+			reported = next;
+		}
+		while (ordered >= 0) {
+			int next = taskNext[ordered];
+			completeTask(ordered, time, jobs[taskJob[ordered]]);
+			ordered = next;
+		}
+
+		// Setup and cleanup tasks have priority (one per heartbeat)
+		if (!assignSetupCleanupTask(k, time)) {
+
+			// Fill the free map slots
+			while (freeMapSlots[k] > 0 && numAvailMaps > 0) {
+				SimulatedJob job = policy.selectJob(activeJobs, numGroups,
+						true, totalMapSlots);
+				if (job == null)
+					break;
+				launchMap(job, k, time);
+			}
+
+			// Assign at most one reduce task
+			if (freeRedSlots[k] > 0 && numAvailReds > 0) {
+				SimulatedJob job = policy.selectJob(activeJobs, numGroups,
+						false, totalRedSlots);
+				if (job != null)
+					launchReduce(job, k, time);
+			}
+		}
+
+		// Come back on the next heartbeat only if there is work to get,
+		// otherwise the tracker wakes up when a task completes or new work
+		// becomes available
+		boolean mapWork = numAvailMaps > 0 || !pendingSetupCleanup.isEmpty();
+		boolean redWork = numAvailReds > 0 || numPendingCleanups > 0;
+		if ((freeMapSlots[k] > 0 && mapWork)
+				|| (freeRedSlots[k] > 0 && redWork))
+			scheduleHeartbeat(k, time + heartbeatInterval);
+	}
+
+	/**
+	 * Assign the first pending setup or cleanup task that fits in the free
+	 * slots of the task tracker. Setup tasks run on map slots, while cleanup
+	 * tasks prefer map slots over reduce slots.
+	 * 
+	 * @param k
+	 *            the task tracker index
+	 * @param time
+	 *            the current time
+	 * @return true if a task was assigned
+	 */
+	private boolean assignSetupCleanupTask(int k, long time) {
+		if (freeMapSlots[k] == 0
+				&& (freeRedSlots[k] == 0 || numPendingCleanups == 0))
+			return false;
+
+		for (int i = 0; i < pendingSetupCleanup.size(); ++i) {
+			SimulatedJob job = pendingSetupCleanup.get(i);
+			byte type;
+			if (!job.mapsReady) {
+				if (freeMapSlots[k] == 0)
+					continue;
+				type = TASK_SETUP;
+			} else {
+				type = freeMapSlots[k] > 0 ? TASK_MAP_CLEANUP
+						: TASK_RED_CLEANUP;
+				--numPendingCleanups;
+			}
+
+			pendingSetupCleanup.remove(i);
+			int task = launchTask(job, type, 0, k, time);
+			taskEnd[task] = time + SETUP_CLEANUP_TIME;
+			events.add(taskEnd[task], EVENT_COMPLETE, task);
+			return true;
+		}
+
+		return false;
+	}
+
+	/**
+	 * Launch the next map task of a job on a task tracker. In the
+	 * locality-aware mode, the task tracker gets a map task with data on its
+	 * host, or else on its rack, or else the next map task, and the rack-local
+	 * and off-rack maps take longer to read their input.
+	 * 
+	 * @param job
+	 *            the job
+	 * @param k
+	 *            the task tracker index
+	 * @param time
+	 *            the current time
+	 */
+	private void launchMap(SimulatedJob job, int k, long time) {
+		JobSpec spec = jobSpecs.get(job.jobIndex);
+		int i = job.launchedMaps;
+		byte locality = DATA_LOCAL;
+		long mapTime = 0l;
+
+		if (spec.hostMaps != null) {
+			i = -1;
+			if (trackerHosts[k] >= 0) {
+				i = nextPendingMap(job, spec.hostMapStarts, spec.hostMaps,
+						job.hostCursors, trackerHosts[k]);
+			}
+			if (i < 0 && trackerRacks[k] >= 0) {
+				i = nextPendingMap(job, spec.rackMapStarts, spec.rackMaps,
+						job.rackCursors, trackerRacks[k]);
+				if (i >= 0) {
+					locality = RACK_LOCAL;
+					mapTime = spec.mapRemoteTimes[i];
+				}
+			}
+			if (i < 0) {
+				while (job.launchedMapFlags[job.nextMap])
+					++job.nextMap;
+				i = job.nextMap;
+				locality = NON_LOCAL;
+				mapTime = (long) (spec.mapRemoteTimes[i]
+						* rackOversubscription);
+			}
+			job.launchedMapFlags[i] = true;
+		}
+
+		++job.launchedMaps;
+		--numAvailMaps;
+		int task = launchTask(job, TASK_MAP, i, k, time);
+		taskLocality[task] = locality;
+		taskEnd[task] = time + spec.mapTimes[i] + mapTime;
+		events.add(taskEnd[task], EVENT_COMPLETE, task);
+	}
+
+	/**
+	 * Find the first map task in a list that has not been launched yet. Each
+	 * list has a cursor that skips over the launched map tasks, so all the
+	 * lookups of a simulation take linear time overall.
+	 * 
+	 * @param job
+	 *            the job
+	 * @param starts
+	 *            the first position of each list (plus the end)
+	 * @param maps
+	 *            the map tasks of all the lists
+	 * @param cursors
+	 *            the cursor of each list
+	 * @param list
+	 *            the list index (a host or a rack)
+	 * @return the map task, or -1 if all the map tasks have been launched
+	 */
+	private static int nextPendingMap(SimulatedJob job, int[] starts,
+			int[] maps, int[] cursors, int list) {
+		int pos = starts[list] + cursors[list];
+		int end = starts[list + 1];
+		while (pos < end && job.launchedMapFlags[maps[pos]])
+			++pos;
+		cursors[list] = pos - starts[list];
+		return (pos < end) ? maps[pos] : -1;
+	}
+
+	/**
+	 * Launch the next reduce task of a job on a task tracker. The end time of
+	 * the reducer is known only after the last map task of the job completes.
+	 * 
+	 * @param job
+	 *            the job
+	 * @param k
+	 *            the task tracker index
+	 * @param time
+	 *            the current time
+	 */
+	private void launchReduce(SimulatedJob job, int k, long time) {
+		int i = job.launchedReduces++;
+		--numAvailReds;
+		int task = launchTask(job, TASK_REDUCE, i, k, time);
+
+		if (job.completedMaps == job.numMaps) {
+			finishReduce(job, task);
+		} else {
+			if (job.shufflingReduces == null)
+				job.shufflingReduces = new int[job.numReduces];
+			job.shufflingReduces[job.numShufflingReduces++] = task;
+		}
+	}
+
+	/**
+	 * Compute the end times of a reducer after the last map task of the job
+	 * completed, using the same shuffle model as the
+	 * {@link BasicFIFOScheduler}
+	 * 
+	 * @param job
+	 *            the job
+	 * @param task
+	 *            the reduce task
+	 */
+	private void finishReduce(SimulatedJob job, int task) {
+		JobSpec spec = jobSpecs.get(job.jobIndex);
+		int i = taskIndex[task];
+		long startTime = taskStart[task];
+		long shuffleTime = spec.redShuffleTimes[i];
+
+		// The shuffle will complete only after all maps have completed
+		if (startTime < job.lastMapEndTime
+				&& shuffleTime <= job.lastMapEndTime - startTime) {
+			taskShuffleEnd[task] = job.lastMapEndTime + shuffleTime
+					/ Math.max(job.numMaps, 1);
+		} else {
+			taskShuffleEnd[task] = startTime + shuffleTime;
+		}
+
+		taskSortEnd[task] = taskShuffleEnd[task] + spec.redSortTimes[i];
+		taskEnd[task] = taskSortEnd[task] + spec.redOtherTimes[i];
+		events.add(taskEnd[task], EVENT_COMPLETE, task);
+	}
+
+	/**
+	 * Create a new task and occupy a slot of the task tracker
+	 * 
+	 * @param job
+	 *            the job
+	 * @param type
+	 *            the task type
+	 * @param index
+	 *            the task index in the job
+	 * @param k
+	 *            the task tracker index
+	 * @param time
+	 *            the start time
+	 * @return the task
+	 */
+	private int launchTask(SimulatedJob job, byte type, int index, int k,
+			long time) {
+		if (numTasks == taskJob.length)
+			growTasks(2 * numTasks);
+
+		if (type == TASK_REDUCE || type == TASK_RED_CLEANUP)
+			--freeRedSlots[k];
+		else
+			--freeMapSlots[k];
+
+		int task = numTasks++;
+		taskJob[task] = job.jobIndex;
+		taskType[task] = type;
+		taskIndex[task] = index;
+		taskTracker[task] = k;
+		taskNext[task] = -1;
+		taskStart[task] = time;
+		taskEnd[task] = time;
+		taskShuffleEnd[task] = time;
+		taskSortEnd[task] = time;
+		taskLocality[task] = DATA_LOCAL;
+		return task;
+	}
+
+	/**
+	 * Complete a task that was reported by its task tracker, free its slot,
+	 * and update the state of its job
+	 * 
+	 * @param task
+	 *            the task
+	 * @param time
+	 *            the report time
+	 * @param job
+	 *            the job of the task
+	 */
+	private void completeTask(int task, long time, SimulatedJob job) {
+		int k = taskTracker[task];
+		switch (taskType[task]) {
+		case TASK_SETUP:
+			++freeMapSlots[k];
+			job.mapsReady = true;
+			numAvailMaps += job.numMaps;
+			if (job.numMaps == 0)
+				completeMaps(job, time);
+			else
+				wakeTrackers(time, true, false);
+			break;
+
+		case TASK_MAP:
+			++freeMapSlots[k];
+			++job.completedMaps;
+			if (!job.reducesReady && job.numReduces > 0
+					&& job.completedMaps >= job.numMapsBeforeReducers) {
+				job.reducesReady = true;
+				numAvailReds += job.numReduces - job.launchedReduces;
+				wakeTrackers(time, false, true);
+			}
+			if (job.completedMaps == job.numMaps)
+				completeMaps(job, time);
+			break;
+
+		case TASK_REDUCE:
+			++freeRedSlots[k];
+			++job.completedReduces;
+			if (job.completedReduces == job.numReduces)
+				addCleanupTask(job, time);
+			break;
+
+		case TASK_MAP_CLEANUP:
+		case TASK_RED_CLEANUP:
+			if (taskType[task] == TASK_MAP_CLEANUP)
+				++freeMapSlots[k];
+			else
+				++freeRedSlots[k];
+			job.endTime = time;
+			activeJobs.remove(job);
+			break;
+
+		default:
+			throw new RuntimeException("ERROR: Unknown task type "
+					+ taskType[task]);
+		}
+	}
+
+	/**
+	 * All the map tasks of the job completed, so the waiting reducers can
+	 * finish their shuffle, or the job can clean up if it has no reducers
+	 * 
+	 * @param job
+	 *            the job
+	 * @param time
+	 *            the current time
+	 */
+	private void completeMaps(SimulatedJob job, long time) {
+		job.lastMapEndTime = time;
+		if (job.numReduces == 0) {
+			addCleanupTask(job, time);
+			return;
+		}
+
+		if (!job.reducesReady) {
+			job.reducesReady = true;
+			numAvailReds += job.numReduces - job.launchedReduces;
+			wakeTrackers(time, false, true);
+		}
+		for (int r = 0; r < job.numShufflingReduces; ++r)
+			finishReduce(job, job.shufflingReduces[r]);
+		job.numShufflingReduces = 0;
+	}
+
+	/**
+	 * Add the cleanup task of a job to the pending tasks
+	 * 
+	 * @param job
+	 *            the job
+	 * @param time
+	 *            the current time
+	 */
+	private void addCleanupTask(SimulatedJob job, long time) {
+		pendingSetupCleanup.add(job);
+		++numPendingCleanups;
+		wakeTrackers(time, true, true);
+	}
+
+	/**
+	 * Wake up the task trackers with free slots after new work became
+	 * available, so that they send a heartbeat soon
+	 * 
+	 * @param time
+	 *            the current time
+	 * @param mapWork
+	 *            whether there is new work for the map slots
+	 * @param redWork
+	 *            whether there is new work for the reduce slots
+	 */
+	private void wakeTrackers(long time, boolean mapWork, boolean redWork) {
+		for (int k = 0; k < trackers.length; ++k) {
+			if ((mapWork && freeMapSlots[k] > 0)
+					|| (redWork && freeRedSlots[k] > 0))
+				scheduleHeartbeat(k, getHeartbeatAtOrAfter(k, time + 1));
+		}
+	}
+
+	/**
+	 * Schedule a heartbeat for a task tracker, unless it already has an
+	 * earlier one. A later heartbeat is left in the queue and skipped.
+	 * 
+	 * @param k
+	 *            the task tracker index
+	 * @param time
+	 *            the heartbeat time
+	 */
+	private void scheduleHeartbeat(int k, long time) {
+		if (time < nextHeartbeat[k]) {
+			nextHeartbeat[k] = time;
+			events.add(time, EVENT_HEARTBEAT, k);
+		}
+	}
+
+	/**
+	 * The heartbeats of the task trackers are spread evenly over the
+	 * heartbeat interval. Returns the first heartbeat of a task tracker at or
+	 * after the given time.
+	 * 
+	 * @param k
+	 *            the task tracker index
+	 * @param time
+	 *            the time
+	 * @return the heartbeat time
+	 */
+	private long getHeartbeatAtOrAfter(int k, long time) {
+		long phase = k * heartbeatInterval / trackers.length;
+		long diff = time - phase;
+		long num = diff / heartbeatInterval;
+		if (diff > 0 && diff % heartbeatInterval != 0)
+			++num;
+		return phase + num * heartbeatInterval;
+	}
+
+	/**
+	 * Create the placement of the blocks on the hosts of the cluster and find
+	 * the host and the rack of each task tracker, if not done already
+	 */
+	private void initPlacement() {
+		if (placement != null)
+			return;
+
+		placement = new VirtualBlockPlacement(cluster);
+		if (placement.getNumHosts() == 0)
+			throw new RuntimeException("ERROR: The cluster has no slave hosts");
+
+		trackerHosts = new int[trackers.length];
+		trackerRacks = new int[trackers.length];
+		for (int k = 0; k < trackers.length; ++k) {
+			trackerHosts[k] = placement.getHostIndex(trackers[k]
+					.getHostName());
+			trackerRacks[k] = (trackerHosts[k] < 0) ? -1 : placement
+					.getRackIndex(trackerHosts[k]);
+		}
+	}
+
+	/**
+	 * Get the hosts with the input data of each map task of a job. If the job
+	 * reads files from the virtual file system, then each map task reads one
+	 * of their splits (the larger splits first, like the map tasks).
+	 * Otherwise, the input blocks of the job are placed based on the job id,
+	 * using the replication factor in the job configuration.
+	 * 
+	 * @param spec
+	 *            the job
+	 * @param conf
+	 *            the job configuration
+	 * @return the replica hosts of each map task
+	 */
+	private int[][] getMapReplicaHosts(JobSpec spec, Configuration conf) {
+		int numMaps = spec.mapTimes.length;
+		if (vfs != null
+				&& conf.get(VirtualFSDataSetModel.VIRTUAL_INPUT_DIRS) != null) {
+			List<int[]> splitHosts = new VirtualFSDataSetModel(vfs)
+					.generateSplitHosts(conf, placement);
+			if (splitHosts.size() == numMaps)
+				return splitHosts.toArray(new int[numMaps][]);
+		}
+
+		String path = "/" + spec.jobProfile.getJobId();
+		int replication = conf.getInt(Constants.DFS_REPLICATION,
+				Constants.DEF_REPLICATION);
+		int[][] replicaHosts = new int[numMaps][];
+		for (int i = 0; i < numMaps; ++i)
+			replicaHosts[i] = placement.getReplicaHosts(path, i, replication);
+		return replicaHosts;
+	}
+
+	/**
+	 * Initialize the placement state of a job that was just submitted
+	 * 
+	 * @param job
+	 *            the job
+	 */
+	private void initMapPlacement(SimulatedJob job) {
+		job.launchedMapFlags = new boolean[job.numMaps];
+		job.hostCursors = new int[placement.getNumHosts()];
+		job.rackCursors = new int[placement.getNumRacks()];
+		job.nextMap = 0;
+	}
+
+	/**
+	 * Grow the task buffers
+	 * 
+	 * @param capacity
+	 *            the new capacity
+	 */
+	private void growTasks(int capacity) {
+		if (taskJob == null) {
+			taskJob = new int[capacity];
+			taskType = new byte[capacity];
+			taskIndex = new int[capacity];
+			taskTracker = new int[capacity];
+			taskNext = new int[capacity];
+			taskStart = new long[capacity];
+			taskEnd = new long[capacity];
+			taskShuffleEnd = new long[capacity];
+			taskSortEnd = new long[capacity];
+			taskLocality = new byte[capacity];
+		} else {
+			taskJob = Arrays.copyOf(taskJob, capacity);
+			taskType = Arrays.copyOf(taskType, capacity);
+			taskIndex = Arrays.copyOf(taskIndex, capacity);
+			taskTracker = Arrays.copyOf(taskTracker, capacity);
+			taskNext = Arrays.copyOf(taskNext, capacity);
+			taskStart = Arrays.copyOf(taskStart, capacity);
+			taskEnd = Arrays.copyOf(taskEnd, capacity);
+			taskShuffleEnd = Arrays.copyOf(taskShuffleEnd, capacity);
+			taskSortEnd = Arrays.copyOf(taskSortEnd, capacity);
+			taskLocality = Arrays.copyOf(taskLocality, capacity);
+		}
+	}
+
+	/**
+	 * Build the job execution of a simulated job from its tasks
+	 * 
+	 * @param target
+	 *            the index of the job
+	 * @param endTime
+	 *            the end time of the job
+	 * @return the job execution
+	 */
+	private MRJobInfo buildJobInfo(int target, long endTime) {
+		JobSpec spec = jobSpecs.get(target);
+		MRJobProfile jobProfile = spec.jobProfile;
+
+		// Create the job
+		MRJobInfo job = new MRJobInfo(0, jobProfile.getJobId(), new Date(
+				spec.submissionTime), null, MRExecutionStatus.SUCCESS, null,
+				JOB_NAME, USER_NAME);
+		job.setProfile(jobProfile);
+
+		// Parse the job id
+		String jobId = jobProfile.getJobId();
+		Matcher m = JOB_ID_PATTERN.matcher(jobId);
+		if (m.matches()) {
+			jobId = m.group(1);
+		}
+
+		int numMaps = spec.mapTimes.length;
+		int numReds = spec.redShuffleTimes.length;
+		List<MRMapProfile> mapProfs = jobProfile.getMapProfiles();
+		List<MRReduceProfile> redProfs = jobProfile.getReduceProfiles();
+
+		for (int task = 0; task < numTasks; ++task) {
+			if (taskJob[task] != target)
+				continue;
+
+			TaskTrackerInfo tracker = trackers[taskTracker[task]];
+			Date startTime = new Date(taskStart[task]);
+			Date taskEndTime = new Date(taskEnd[task]);
+			int i = taskIndex[task];
+
+			switch (taskType[task]) {
+			case TASK_SETUP:
+				MRSetupAttemptInfo setupAttempt = new MRSetupAttemptInfo(0,
+						buildAttemptId(jobId, numMaps + 1, 0, true), startTime,
+						taskEndTime, MRExecutionStatus.SUCCESS, null, tracker);
+				MRSetupInfo setup = new MRSetupInfo(0, buildTaskId(jobId,
+						numMaps + 1, true), startTime, taskEndTime,
+						MRExecutionStatus.SUCCESS, null);
+				setup.addAttempt(setupAttempt);
+				job.addSetupTaskInfo(setup);
+				break;
+
+			case TASK_MAP:
+				MRMapProfile mapProf = mapProfs.get(spec.mapProfIndexes[i]);
+				MRMapAttemptInfo mapAttempt = new MRMapAttemptInfo(0, mapProf
+						.getTaskId(), startTime, taskEndTime,
+						MRExecutionStatus.SUCCESS, null, tracker,
+						LOCALITIES[taskLocality[task]]);
+				mapAttempt.setProfile(mapProf);
+				MRMapInfo map = new MRMapInfo(0, mapProf.getTaskId(),
+						startTime, taskEndTime, MRExecutionStatus.SUCCESS,
+						null, null);
+				map.addAttempt(mapAttempt);
+				job.addMapTaskInfo(map);
+				map.setExecId(buildTaskId(jobId, i, true));
+				mapAttempt.setExecId(buildAttemptId(jobId, i, 0, true));
+				break;
+
+			case TASK_REDUCE:
+				MRReduceProfile redProf = redProfs.get(spec.redProfIndexes[i]);
+				MRReduceAttemptInfo redAttempt = new MRReduceAttemptInfo(0,
+						redProf.getTaskId(), startTime, taskEndTime,
+						MRExecutionStatus.SUCCESS, null, tracker, new Date(
+								taskShuffleEnd[task]), new Date(
+								taskSortEnd[task]));
+				redAttempt.setProfile(redProf);
+				MRReduceInfo reducer = new MRReduceInfo(0,
+						redProf.getTaskId(), startTime, taskEndTime,
+						MRExecutionStatus.SUCCESS, null);
+				reducer.addAttempt(redAttempt);
+				job.addReduceTaskInfo(reducer);
+				reducer.setExecId(buildTaskId(jobId, i, false));
+				redAttempt.setExecId(buildAttemptId(jobId, i, 0, false));
+				break;
+
+			case TASK_MAP_CLEANUP:
+			case TASK_RED_CLEANUP:
+				// Same ids as the BasicFIFOScheduler
+				boolean isMap = numReds == 0;
+				int cleanupId = isMap ? numMaps : numReds + 1;
+				MRCleanupAttemptInfo cleanupAttempt = new MRCleanupAttemptInfo(
+						0, buildAttemptId(jobId, cleanupId, 0, isMap),
+						startTime, taskEndTime, MRExecutionStatus.SUCCESS,
+						null, tracker);
+				MRCleanupInfo cleanup = new MRCleanupInfo(0, buildTaskId(
+						jobId, cleanupId, isMap), startTime, taskEndTime,
+						MRExecutionStatus.SUCCESS, null);
+				cleanup.addAttempt(cleanupAttempt);
+				job.addCleanupTaskInfo(cleanup);
+				break;
+
+			default:
+				throw new RuntimeException("ERROR: Unknown task type "
+						+ taskType[task]);
+			}
+		}
+
+		job.setEndTime(new Date(endTime));
+		return job;
+	}
+
+	/**
+	 * Build and return a virtual task attempt id
+	 * 
+	 * @param jobId
+	 *            the job id e.g., 201011062135_0003
+	 * @param taskId
+	 *            the task id e.g., 5
+	 * @param attemptId
+	 *            the attempt id e.g., 0
+	 * @param isMap
+	 *            true if map task
+	 * @return the attempt id e.g., virtual_task_201011062135_0003_m_000005_0
+	 */
+	private String buildAttemptId(String jobId, int taskId, int attemptId,
+			boolean isMap) {
+		StringBuilder sb = new StringBuilder();
+		sb.append(VIRTUAL_ATTEMPT);
+		sb.append(jobId);
+		sb.append(isMap ? U_MAP_U : U_RED_U);
+		sb.append(nf.format(taskId));
+		sb.append('_');
+		sb.append(attemptId);
+		return sb.toString();
+	}
+
+	/**
+	 * Build and return a virtual task id
+	 * 
+	 * @param jobId
+	 *            the job id e.g., 201011062135_0003
+	 * @param taskId
+	 *            the task id e.g., 5
+	 * @param isMap
+	 *            true if map task
+	 * @return the attempt id e.g., virtual_task_201011062135_0003_m_000005
+	 */
+	private String buildTaskId(String jobId, int taskId, boolean isMap) {
+		StringBuilder sb = new StringBuilder();
+		sb.append(VIRTUAL_TASK);
+		sb.append(jobId);
+		sb.append(isMap ? U_MAP_U : U_RED_U);
+		sb.append(nf.format(taskId));
+		return sb.toString();
+	}
+
+	/**
+	 * Adds up the sub-phase timings
+	 * 
+	 * @param timings
+	 *            the phase timings
+	 * @return the sum of the timings
+	 */
+	private static double sumTimings(Map<MRTaskPhase, Double> timings) {
+		double sum = 0d;
+		for (Double subTime : timings.values())
+			sum += subTime;
+		return sum;
+	}
+
+	/* ***************************************************************
+	 * PRIVATE CLASSES
+	 * ***************************************************************
+	 */
+
+	/**
+	 * The immutable description of a submitted job, with the execution times
+	 * of its tasks in the order they get scheduled
+	 * 
+	 * @author hero
+	 */
+	private static class JobSpec {
+
+		private long submissionTime; // The submission time
+		private MRJobProfile jobProfile; // The virtual job profile
+		private String group; // The group (pool or queue)
+		private int numMapsBeforeReducers; // For the reducer slow start
+
+		private long[] mapTimes; // The execution times of the maps
+		private int[] mapProfIndexes; // The map profile of each map
+		private long[] redShuffleTimes; // The shuffle times of the reducers
+		private long[] redSortTimes; // The sort times of the reducers
+		private long[] redOtherTimes; // The remaining times of the reducers
+		private int[] redProfIndexes; // The reduce profile of each reducer
+
+		// The data placement (only in the locality-aware mode)
+		private int[] hostMapStarts; // The first map of each host
+		private int[] hostMaps; // The maps with data on each host
+		private int[] rackMapStarts; // The first map of each rack
+		private int[] rackMaps; // The maps with data on each rack
+		private long[] mapRemoteTimes; // The time to read the input remotely
+
+		/**
+		 * Constructor
+		 * 
+		 * @param submissionTime
+		 *            the submission time
+		 * @param jobProfile
+		 *            the virtual job profile
+		 * @param params
+		 *            the job parameters
+		 * @param group
+		 *            the group (pool or queue) of the job
+		 * @param ignoreReducers
+		 *            whether to ignore the reducers
+		 */
+		public JobSpec(long submissionTime, MRJobProfile jobProfile,
+				JobParameters params, String group, boolean ignoreReducers) {
+			this.submissionTime = submissionTime;
+			this.jobProfile = jobProfile;
+			this.group = group;
+
+			// The Hadoop schedulers sorts the input splits based on size
+			final List<MRMapProfile> mapProfs = jobProfile.getMapProfiles();
+			Integer[] order = new Integer[mapProfs.size()];
+			int numMaps = 0;
+			for (int p = 0; p < order.length; ++p) {
+				order[p] = p;
+				numMaps += mapProfs.get(p).getNumTasks();
+			}
+			Arrays.sort(order, new Comparator<Integer>() {
+				@Override
+				public int compare(Integer p1, Integer p2) {
+					return getInputSize(mapProfs.get(p2)).compareTo(
+							getInputSize(mapProfs.get(p1)));
+				}
+			});
+
+			mapTimes = new long[numMaps];
+			mapProfIndexes = new int[numMaps];
+			int i = 0;
+			for (int p : order) {
+				MRMapProfile mapProf = mapProfs.get(p);
+				long mapTime = (long) sumTimings(mapProf.getTimings());
+				for (int t = 0; t < mapProf.getNumTasks(); ++t) {
+					mapTimes[i] = mapTime;
+					mapProfIndexes[i] = p;
+					++i;
+				}
+			}
+
+			// Get the reducer times
+			List<MRReduceProfile> redProfs = jobProfile.getReduceProfiles();
+			int numReds = 0;
+			if (!ignoreReducers && numMaps > 0) {
+				for (MRReduceProfile redProf : redProfs)
+					numReds += redProf.getNumTasks();
+			}
+
+			redShuffleTimes = new long[numReds];
+			redSortTimes = new long[numReds];
+			redOtherTimes = new long[numReds];
+			redProfIndexes = new int[numReds];
+			i = 0;
+			for (int p = 0; p < redProfs.size() && i < numReds; ++p) {
+				MRReduceProfile redProf = redProfs.get(p);
+				double shuffleTime = redProf.getTiming(MRTaskPhase.SHUFFLE, 0d);
+				double sortTime = redProf.getTiming(MRTaskPhase.SORT, 0d);
+				double otherTime = sumTimings(redProf.getTimings())
+						- shuffleTime - sortTime;
+				for (int t = 0; t < redProf.getNumTasks(); ++t) {
+					redShuffleTimes[i] = (long) shuffleTime;
+					redSortTimes[i] = (long) sortTime;
+					redOtherTimes[i] = (long) otherTime;
+					redProfIndexes[i] = p;
+					++i;
+				}
+			}
+
+			// Calculate the number of completed maps before reducers start
+			numMapsBeforeReducers = 0;
+			if (numReds > 0) {
+				numMapsBeforeReducers = (int) Math.ceil((params
+						.getRedSlowstartMaps() * numMaps));
+				if (numMapsBeforeReducers == 0)
+					++numMapsBeforeReducers;
+				if (numMapsBeforeReducers < 0
+						|| numMapsBeforeReducers > numMaps)
+					throw new RuntimeException("ERROR: The number of maps to "
+							+ "complete before reducers can start is out of "
+							+ "range: " + numMapsBeforeReducers);
+			}
+		}
+
+		/**
+		 * Set the hosts with the input data of each map task, and index the
+		 * map tasks by host and by rack. The time to read the input of a map
+		 * task over the network is based on the network cost of the job.
+		 * 
+		 * @param replicaHosts
+		 *            the replica hosts of each map task
+		 * @param placement
+		 *            the block placement
+		 */
+		public void initLocality(int[][] replicaHosts,
+				VirtualBlockPlacement placement) {
+			int numMaps = mapTimes.length;
+			int numHosts = placement.getNumHosts();
+			int numRacks = placement.getNumRacks();
+
+			// Count the maps per host and rack
+			hostMapStarts = new int[numHosts + 1];
+			rackMapStarts = new int[numRacks + 1];
+			int[] mapRacks = new int[numRacks];
+			Arrays.fill(mapRacks, -1);
+			for (int i = 0; i < numMaps; ++i) {
+				for (int host : replicaHosts[i]) {
+					++hostMapStarts[host + 1];
+					int rack = placement.getRackIndex(host);
+					if (mapRacks[rack] != i) {
+						mapRacks[rack] = i;
+						++rackMapStarts[rack + 1];
+					}
+				}
+			}
+			for (int h = 0; h < numHosts; ++h)
+				hostMapStarts[h + 1] += hostMapStarts[h];
+			for (int r = 0; r < numRacks; ++r)
+				rackMapStarts[r + 1] += rackMapStarts[r];
+
+			// Fill in the lists (the maps stay in scheduling order)
+			hostMaps = new int[hostMapStarts[numHosts]];
+			rackMaps = new int[rackMapStarts[numRacks]];
+			int[] hostPos = Arrays.copyOf(hostMapStarts, numHosts);
+			int[] rackPos = Arrays.copyOf(rackMapStarts, numRacks);
+			Arrays.fill(mapRacks, -1);
+			for (int i = 0; i < numMaps; ++i) {
+				for (int host : replicaHosts[i]) {
+					hostMaps[hostPos[host]++] = i;
+					int rack = placement.getRackIndex(host);
+					if (mapRacks[rack] != i) {
+						mapRacks[rack] = i;
+						rackMaps[rackPos[rack]++] = i;
+					}
+				}
+			}
+
+			// Calculate the remote read times
+			double netCost = DEF_NETWORK_COST;
+			for (MRReduceProfile redProf : jobProfile.getReduceProfiles()) {
+				double cost = redProf.getCostFactor(MRCostFactors.NETWORK_COST,
+						0d);
+				if (cost > 0) {
+					netCost = cost;
+					break;
+				}
+			}
+
+			List<MRMapProfile> mapProfs = jobProfile.getMapProfiles();
+			mapRemoteTimes = new long[numMaps];
+			for (int i = 0; i < numMaps; ++i) {
+				mapRemoteTimes[i] = (long) (getInputSize(mapProfs
+						.get(mapProfIndexes[i]))
+						* netCost / Constants.NS_PER_MS);
+			}
+		}
+
+		/**
+		 * @param mapProf
+		 *            the map profile
+		 * @return the input size of the map profile
+		 */
+		private static Long getInputSize(MRMapProfile mapProf) {
+			return mapProf.getCounter(MRCounter.HDFS_BYTES_READ, mapProf
+					.getCounter(MRCounter.S3N_BYTES_READ, 0l));
+		}
+	}
+
+	/**
+	 * A binary min-heap of events, ordered by time, then by event type, and
+	 * then by insertion order. The events are kept in primitive arrays.
+	 * 
+	 * @author hero
+	 */
+	private static class EventQueue {
+
+		private long[] times; // The event times
+		private int[] types; // The event types
+		private int[] payloads; // The event payloads
+		private long[] seqs; // The insertion sequence numbers
+		private int size; // The number of events
+		private long nextSeq; // The next sequence number
+
+		/**
+		 * Constructor
+		 * 
+		 * @param capacity
+		 *            the initial capacity
+		 */
+		public EventQueue(int capacity) {
+			times = new long[capacity];
+			types = new int[capacity];
+			payloads = new int[capacity];
+			seqs = new long[capacity];
+			size = 0;
+			nextSeq = 0;
+		}
+
+		/**
+		 * Remove all the events
+		 */
+		public void clear() {
+			size = 0;
+			nextSeq = 0;
+		}
+
+		/**
+		 * @return true if there are no events
+		 */
+		public boolean isEmpty() {
+			return size == 0;
+		}
+
+		/**
+		 * @return the time of the first event
+		 */
+		public long peekTime() {
+			return times[0];
+		}
+
+		/**
+		 * @return the type of the first event
+		 */
+		public int peekType() {
+			return types[0];
+		}
+
+		/**
+		 * @return the payload of the first event
+		 */
+		public int peekPayload() {
+			return payloads[0];
+		}
+
+		/**
+		 * Add an event
+		 * 
+		 * @param time
+		 *            the event time
+		 * @param type
+		 *            the event type
+		 * @param payload
+		 *            the event payload
+		 */
+		public void add(long time, int type, int payload) {
+			if (size == times.length) {
+				int capacity = 2 * size;
+				times = Arrays.copyOf(times, capacity);
+				types = Arrays.copyOf(types, capacity);
+				payloads = Arrays.copyOf(payloads, capacity);
+				seqs = Arrays.copyOf(seqs, capacity);
+			}
+
+			// Sift up
+			long seq = nextSeq++;
+			int pos = size++;
+			while (pos > 0) {
+				int parent = (pos - 1) >>> 1;
+				if (!less(time, type, seq, parent))
+					break;
+				move(parent, pos);
+				pos = parent;
+			}
+			set(pos, time, type, payload, seq);
+		}
+
+		/**
+		 * Remove the first event
+		 */
+		public void remove() {
+			--size;
+			if (size == 0)
+				return;
+
+			// Sift down the last event
+			long time = times[size];
+			int type = types[size];
+			int payload = payloads[size];
+			long seq = seqs[size];
+			int pos = 0;
+			int half = size >>> 1;
+			while (pos < half) {
+				int child = 2 * pos + 1;
+				if (child + 1 < size
+						&& less(times[child + 1], types[child + 1],
+								seqs[child + 1], child))
+					++child;
+				if (!less(times[child], types[child], seqs[child], time, type,
+						seq))
+					break;
+				move(child, pos);
+				pos = child;
+			}
+			set(pos, time, type, payload, seq);
+		}
+
+		/**
+		 * @return true if the event goes before the event at the position
+		 */
+		private boolean less(long time, int type, long seq, int pos) {
+			return less(time, type, seq, times[pos], types[pos], seqs[pos]);
+		}
+
+		/**
+		 * @return true if the first event goes before the second event
+		 */
+		private static boolean less(long time1, int type1, long seq1,
+				long time2, int type2, long seq2) {
+			if (time1 != time2)
+				return time1 < time2;
+			if (type1 != type2)
+				return type1 < type2;
+			return seq1 < seq2;
+		}
+
+		/**
+		 * Move the event from one position to another
+		 */
+		private void move(int from, int to) {
+			set(to, times[from], types[from], payloads[from], seqs[from]);
+		}
+
+		/**
+		 * Set the event at a position
+		 */
+		private void set(int pos, long time, int type, int payload, long seq) {
+			times[pos] = time;
+			types[pos] = type;
+			payloads[pos] = payload;
+			seqs[pos] = seq;
+		}
+	}
+
+}
@@ -0,0 +1,40 @@
+package edu.duke.starfish.whatif.scheduler;
+
+import java.util.List;
+
+import org.apache.hadoop.conf.Configuration;
+
+/**
+ * The FIFO scheduling policy of the default Hadoop scheduler
+ * (JobQueueTaskScheduler): a free slot is given to the earliest submitted job
+ * with pending tasks.
+ * 
+ * @author hero
+ */
+public class FIFOSchedulingPolicy implements ISchedulingPolicy {
+
+	// Constants
+	private static final String DEFAULT_GROUP = "default";
+
+	/**
+	 * @see ISchedulingPolicy#getJobGroup(Configuration)
+	 */
+	@Override
+	public String getJobGroup(Configuration conf) {
+		return DEFAULT_GROUP;
+	}
+
+	/**
+	 * @see ISchedulingPolicy#selectJob(List, int, boolean, int)
+	 */
+	@Override
+	public SimulatedJob selectJob(List<SimulatedJob> jobs, int numGroups,
+			boolean isMap, int totalSlots) {
+		for (int j = 0; j < jobs.size(); ++j) {
+			if (jobs.get(j).getNumPendingTasks(isMap) > 0)
+				return jobs.get(j);
+		}
+		return null;
+	}
+
+}
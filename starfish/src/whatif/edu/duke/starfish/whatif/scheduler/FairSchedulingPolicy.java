@@ -0,0 +1,141 @@
+package edu.duke.starfish.whatif.scheduler;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.hadoop.conf.Configuration;
+
+/**
+ * The scheduling policy of the Hadoop Fair Scheduler. Jobs are placed in
+ * pools based on the 'mapred.fairscheduler.pool' parameter or the property
+ * named by 'mapred.fairscheduler.poolnameproperty' (the user name by
+ * default). A free slot is given to the pool with the fewest running tasks
+ * relative to its weight, and within the pool to the job with the fewest
+ * running tasks, so concurrent jobs share the cluster instead of waiting for
+ * each other.
+ * 
+ * @author hero
+ */
+public class FairSchedulingPolicy implements ISchedulingPolicy {
+
+	/* ***************************************************************
+	 * DATA MEMBERS
+	 * ***************************************************************
+	 */
+
+	private Map<String, Double> poolWeights; // The weights of the pools
+
+	// Constants
+	private static final String FAIR_POOL = "mapred.fairscheduler.pool";
+	private static final String FAIR_POOL_NAME_PROPERTY = "mapred.fairscheduler.poolnameproperty";
+	private static final String USER_NAME = "user.name";
+	private static final String DEFAULT_POOL = "default";
+
+	/**
+	 * Default constructor. All pools have a weight of 1.
+	 */
+	public FairSchedulingPolicy() {
+		this.poolWeights = new HashMap<String, Double>();
+	}
+
+	/* ***************************************************************
+	 * PUBLIC METHODS
+	 * ***************************************************************
+	 */
+
+	/**
+	 * @param pool
+	 *            the pool name
+	 * @return the weight of the pool
+	 */
+	public double getPoolWeight(String pool) {
+		Double weight = poolWeights.get(pool);
+		return weight == null ? 1d : weight;
+	}
+
+	/**
+	 * Set the weight of a pool. A pool with weight 2 gets twice the slots of
+	 * a pool with weight 1.
+	 * 
+	 * @param pool
+	 *            the pool name
+	 * @param weight
+	 *            the weight of the pool
+	 */
+	public void setPoolWeight(String pool, double weight) {
+		if (weight <= 0)
+			throw new RuntimeException("ERROR: The weight of the pool " + pool
+					+ " must be positive: " + weight);
+		poolWeights.put(pool, weight);
+	}
+
+	/* ***************************************************************
+	 * OVERRIDEN METHODS
+	 * ***************************************************************
+	 */
+
+	/**
+	 * @see ISchedulingPolicy#getJobGroup(Configuration)
+	 */
+	@Override
+	public String getJobGroup(Configuration conf) {
+		String pool = conf.get(FAIR_POOL);
+		if (pool == null)
+			pool = conf.get(conf.get(FAIR_POOL_NAME_PROPERTY, USER_NAME),
+					DEFAULT_POOL);
+		return pool;
+	}
+
+	/**
+	 * @see ISchedulingPolicy#selectJob(List, int, boolean, int)
+	 */
+	@Override
+	public SimulatedJob selectJob(List<SimulatedJob> jobs, int numGroups,
+			boolean isMap, int totalSlots) {
+
+		// Find the running tasks of each pool and the pools with pending tasks
+		int[] running = new int[numGroups];
+		boolean[] pending = new boolean[numGroups];
+		for (int j = 0; j < jobs.size(); ++j) {
+			SimulatedJob job = jobs.get(j);
+			running[job.getGroupIndex()] += job.getNumRunningTasks(isMap);
+			if (job.getNumPendingTasks(isMap) > 0)
+				pending[job.getGroupIndex()] = true;
+		}
+
+		// Find the most starved pool (the pools are visited in the order of
+		// their earliest job, which breaks the ties)
+		int bestGroup = -1;
+		double bestShare = Double.MAX_VALUE;
+		for (int j = 0; j < jobs.size(); ++j) {
+			SimulatedJob job = jobs.get(j);
+			int g = job.getGroupIndex();
+			if (pending[g]) {
+				double share = running[g] / getPoolWeight(job.getGroup());
+				if (share < bestShare) {
+					bestShare = share;
+					bestGroup = g;
+				}
+				pending[g] = false;
+			}
+		}
+		if (bestGroup < 0)
+			return null;
+
+		// Find the job with the fewest running tasks in the pool
+		SimulatedJob bestJob = null;
+		for (int j = 0; j < jobs.size(); ++j) {
+			SimulatedJob job = jobs.get(j);
+			if (job.getGroupIndex() != bestGroup
+					|| job.getNumPendingTasks(isMap) == 0)
+				continue;
+			if (bestJob == null
+					|| job.getNumRunningTasks(isMap) < bestJob
+							.getNumRunningTasks(isMap))
+				bestJob = job;
+		}
+		return bestJob;
+	}
+
+}
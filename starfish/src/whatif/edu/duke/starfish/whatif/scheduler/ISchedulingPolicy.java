@@ -0,0 +1,46 @@
+package edu.duke.starfish.whatif.scheduler;
+
+import java.util.List;
+
+import org.apache.hadoop.conf.Configuration;
+
+/**
+ * Interface for the task scheduling policy used by the
+ * {@link EventDrivenScheduler}. Every time a task tracker has a free slot,
+ * the simulator asks the policy which job should get it, similar to the
+ * TaskScheduler of the Hadoop JobTracker.
+ * 
+ * Implementations must not keep any state that changes during a simulation,
+ * since the same policy is shared by copies of the scheduler.
+ * 
+ * @author hero
+ */
+public interface ISchedulingPolicy {
+
+	/**
+	 * Get the group (e.g., the pool or the queue) the job belongs to, based
+	 * on the job configuration.
+	 * 
+	 * @param conf
+	 *            the job configuration
+	 * @return the group of the job
+	 */
+	public String getJobGroup(Configuration conf);
+
+	/**
+	 * Select the job to assign a free map or reduce slot to. Only jobs with
+	 * pending tasks of the requested type can be selected.
+	 * 
+	 * @param jobs
+	 *            the active jobs in submission order
+	 * @param numGroups
+	 *            the number of groups (the group indexes are below it)
+	 * @param isMap
+	 *            whether the free slot is a map slot
+	 * @param totalSlots
+	 *            the total number of slots of this type in the cluster
+	 * @return the selected job, or null if no job should get the slot
+	 */
+	public SimulatedJob selectJob(List<SimulatedJob> jobs, int numGroups,
+			boolean isMap, int totalSlots);
+}
@@ -7,6 +7,7 @@ import org.apache.hadoop.conf.Configuration;
 import edu.duke.starfish.profile.profileinfo.ClusterConfiguration;
 import edu.duke.starfish.profile.profileinfo.execution.jobs.MRJobInfo;
 import edu.duke.starfish.profile.profileinfo.execution.profile.MRJobProfile;
+import edu.duke.starfish.whatif.data.JobParameters;
 
 /**
  * Interface for the WhatIf Scheduler.
@@ -38,6 +39,15 @@ public interface IWhatIfScheduler {
 	 */
 	public void reset();
 
+	/**
+	 * Create an independent copy of this scheduler, including its current and
+	 * checkpointed state. The copy does not share any mutable state with the
+	 * original, so the two can be used concurrently by different threads.
+	 * 
+	 * @return a copy of the scheduler
+	 */
+	public IWhatIfScheduler copy();
+
 	/**
 	 * Get the cluster information
 	 * 
@@ -60,6 +70,21 @@ public interface IWhatIfScheduler {
 	public MRJobInfo scheduleJobGetJobInfo(Date submissionTime,
 			MRJobProfile jobProfile, Configuration conf);
 
+	/**
+	 * Schedule the job on a cluster using the input configuration parameters
+	 * and the job profile, and return a representation of the job execution.
+	 * 
+	 * @param submissionTime
+	 *            the job submission time
+	 * @param jobProfile
+	 *            the virtual job profile
+	 * @param params
+	 *            the job configuration parameters
+	 * @return the job execution
+	 */
+	public MRJobInfo scheduleJobGetJobInfo(Date submissionTime,
+			MRJobProfile jobProfile, JobParameters params);
+
 	/**
 	 * Schedule the job on a cluster using the input configuration parameters
 	 * and the job profile, and return the overall execution time.
@@ -75,6 +100,39 @@ public interface IWhatIfScheduler {
 	public double scheduleJobGetTime(Date submissionTime,
 			MRJobProfile jobProfile, Configuration conf);
 
+	/**
+	 * Schedule the job on a cluster using the input configuration parameters
+	 * and the job profile, and return the overall execution time.
+	 * 
+	 * @param submissionTime
+	 *            the job submission time
+	 * @param jobProfile
+	 *            the virtual job profile
+	 * @param params
+	 *            the job configuration parameters
+	 * @return the job execution time
+	 */
+	public double scheduleJobGetTime(Date submissionTime,
+			MRJobProfile jobProfile, JobParameters params);
+
+	/**
+	 * Schedule the job on a cluster using the input configuration parameters
+	 * and the job profile, and return the time when the job completes. Unlike
+	 * the execution time, the completion time includes any time the job waited
+	 * for the tasks of previously scheduled jobs, so it can be used as the
+	 * submission time of the jobs that depend on this job.
+	 * 
+	 * @param submissionTime
+	 *            the job submission time
+	 * @param jobProfile
+	 *            the virtual job profile
+	 * @param params
+	 *            the job configuration parameters
+	 * @return the job completion time
+	 */
+	public Date scheduleJobGetEndTime(Date submissionTime,
+			MRJobProfile jobProfile, JobParameters params);
+
 	/**
 	 * When this flag is set, the reducers will not get schedule on the cluster.
 	 * Instead, the job will only contain map tasks.
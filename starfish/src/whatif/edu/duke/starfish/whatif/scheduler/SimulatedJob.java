@@ -0,0 +1,172 @@
+package edu.duke.starfish.whatif.scheduler;
+
+/**
+ * The state of a job during a simulation of the {@link EventDrivenScheduler}.
+ * The scheduling policies ({@link ISchedulingPolicy}) use it to decide which
+ * job gets the next free slot; only the simulator changes it.
+ * 
+ * @author hero
+ */
+public class SimulatedJob {
+
+	/* ***************************************************************
+	 * DATA MEMBERS
+	 * ***************************************************************
+	 */
+
+	int jobIndex; // The index of the job in the simulation
+	String group; // The group (pool or queue) of the job
+	int groupIndex; // The index of the group in the simulation
+	long submissionTime; // The submission time
+
+	int numMaps; // The number of map tasks
+	int numReduces; // The number of reduce tasks
+	int numMapsBeforeReducers; // The maps to complete before reducers start
+
+	int launchedMaps; // The number of launched map tasks
+	int completedMaps; // The number of completed map tasks
+	int launchedReduces; // The number of launched reduce tasks
+	int completedReduces; // The number of completed reduce tasks
+	boolean mapsReady; // Whether the setup task has completed
+	boolean reducesReady; // Whether the reducers can start
+	long lastMapEndTime; // The time the last map task was reported
+	long endTime; // The time the job completed (-1 while running)
+
+	// The reducers waiting for the last map task to complete
+	int[] shufflingReduces;
+	int numShufflingReduces;
+
+	// The placement state of the maps (only in the locality-aware mode)
+	boolean[] launchedMapFlags; // Whether each map task was launched
+	int[] hostCursors; // The next map to check for each host
+	int[] rackCursors; // The next map to check for each rack
+	int nextMap; // The next map to check for any host
+
+	/**
+	 * Constructor
+	 * 
+	 * @param jobIndex
+	 *            the index of the job in the simulation
+	 * @param group
+	 *            the group of the job
+	 * @param groupIndex
+	 *            the index of the group in the simulation
+	 * @param submissionTime
+	 *            the submission time
+	 * @param numMaps
+	 *            the number of map tasks
+	 * @param numReduces
+	 *            the number of reduce tasks
+	 * @param numMapsBeforeReducers
+	 *            the maps to complete before reducers start
+	 */
+	SimulatedJob(int jobIndex, String group, int groupIndex,
+			long submissionTime, int numMaps, int numReduces,
+			int numMapsBeforeReducers) {
+		this.jobIndex = jobIndex;
+		this.group = group;
+		this.groupIndex = groupIndex;
+		this.submissionTime = submissionTime;
+
+		this.numMaps = numMaps;
+		this.numReduces = numReduces;
+		this.numMapsBeforeReducers = numMapsBeforeReducers;
+
+		this.launchedMaps = 0;
+		this.completedMaps = 0;
+		this.launchedReduces = 0;
+		this.completedReduces = 0;
+		this.mapsReady = false;
+		this.reducesReady = false;
+		this.lastMapEndTime = 0l;
+		this.endTime = -1l;
+
+		this.shufflingReduces = null;
+		this.numShufflingReduces = 0;
+
+		this.launchedMapFlags = null;
+		this.hostCursors = null;
+		this.rackCursors = null;
+		this.nextMap = 0;
+	}
+
+	/* ***************************************************************
+	 * PUBLIC METHODS
+	 * ***************************************************************
+	 */
+
+	/**
+	 * @return the index of the job in the simulation
+	 */
+	public int getJobIndex() {
+		return jobIndex;
+	}
+
+	/**
+	 * @return the group (pool or queue) of the job
+	 */
+	public String getGroup() {
+		return group;
+	}
+
+	/**
+	 * @return the index of the group in the simulation
+	 */
+	public int getGroupIndex() {
+		return groupIndex;
+	}
+
+	/**
+	 * @return the submission time
+	 */
+	public long getSubmissionTime() {
+		return submissionTime;
+	}
+
+	/**
+	 * @param isMap
+	 *            whether to count the map or the reduce tasks
+	 * @return the number of tasks that can be launched now
+	 */
+	public int getNumPendingTasks(boolean isMap) {
+		if (isMap)
+			return mapsReady ? numMaps - launchedMaps : 0;
+		else
+			return reducesReady ? numReduces - launchedReduces : 0;
+	}
+
+	/**
+	 * @param isMap
+	 *            whether to count the map or the reduce tasks
+	 * @return the number of tasks currently running
+	 */
+	public int getNumRunningTasks(boolean isMap) {
+		if (isMap)
+			return launchedMaps - completedMaps;
+		else
+			return launchedReduces - completedReduces;
+	}
+
+	/**
+	 * @param isMap
+	 *            whether to count the map or the reduce tasks
+	 * @return the total number of tasks of the job
+	 */
+	public int getNumTasks(boolean isMap) {
+		return isMap ? numMaps : numReduces;
+	}
+
+	/* ***************************************************************
+	 * OVERRIDEN METHODS
+	 * ***************************************************************
+	 */
+
+	@Override
+	public String toString() {
+		return "SimulatedJob [jobIndex=" + jobIndex + ", group=" + group
+				+ ", submissionTime=" + submissionTime + ", completedMaps="
+				+ completedMaps + "/" + numMaps + ", completedReduces="
+				+ completedReduces + "/" + numReduces + "]";
+	}
+
+}
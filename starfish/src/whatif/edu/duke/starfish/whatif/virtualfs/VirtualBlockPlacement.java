@@ -0,0 +1,249 @@
+package edu.duke.starfish.whatif.virtualfs;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import edu.duke.starfish.profile.profileinfo.ClusterConfiguration;
+import edu.duke.starfish.profile.profileinfo.setup.SlaveHostInfo;
+
+/**
+ * Places the replicas of the virtual file blocks on the slave hosts of a
+ * cluster, following the default block placement policy of HDFS:
+ * 
+ * <ul>
+ * <li>The first replica goes on a random host (the writer is assumed to be
+ * outside the cluster)</li>
+ * <li>The second replica goes on a host in a different rack</li>
+ * <li>The third replica goes on a different host in the same rack as the
+ * second replica</li>
+ * <li>Any other replicas go on random hosts</li>
+ * </ul>
+ * 
+ * The placement is pseudo-random but deterministic: it only depends on the
+ * file path and the block index, so the same block is always placed on the
+ * same hosts. The hosts are identified by their index, and the hosts of the
+ * same rack have consecutive indexes.
+ * 
+ * @author hero
+ */
+public class VirtualBlockPlacement {
+
+	/* ***************************************************************
+	 * DATA MEMBERS
+	 * ***************************************************************
+	 */
+
+	private String[] hostNames; // The host names, grouped by rack
+	private int[] hostRacks; // The rack index of each host
+	private int[] rackStarts; // The first host of each rack (plus the end)
+	private Map<String, Integer> hostIndexes; // The index of each host name
+
+	private static final String DEFAULT_RACK = "default-rack";
+
+	/**
+	 * Constructor
+	 * 
+	 * @param cluster
+	 *            the cluster with the slave hosts that store the blocks
+	 */
+	public VirtualBlockPlacement(ClusterConfiguration cluster) {
+
+		// Order the hosts by rack and name
+		List<SlaveHostInfo> hosts = new ArrayList<SlaveHostInfo>(cluster
+				.getAllSlaveHostInfos());
+		Collections.sort(hosts, new Comparator<SlaveHostInfo>() {
+			@Override
+			public int compare(SlaveHostInfo h1, SlaveHostInfo h2) {
+				int comp = getRackName(h1).compareTo(getRackName(h2));
+				return (comp != 0) ? comp : h1.getName().compareTo(
+						h2.getName());
+			}
+		});
+
+		int numHosts = hosts.size();
+		hostNames = new String[numHosts];
+		hostRacks = new int[numHosts];
+		hostIndexes = new HashMap<String, Integer>(2 * numHosts);
+		List<Integer> starts = new ArrayList<Integer>();
+		String prevRack = null;
+		for (int h = 0; h < numHosts; ++h) {
+			SlaveHostInfo host = hosts.get(h);
+			String rack = getRackName(host);
+			if (!rack.equals(prevRack)) {
+				starts.add(h);
+				prevRack = rack;
+			}
+
+			hostNames[h] = host.getName();
+			hostRacks[h] = starts.size() - 1;
+			hostIndexes.put(host.getName(), h);
+		}
+
+		rackStarts = new int[starts.size() + 1];
+		for (int r = 0; r < starts.size(); ++r)
+			rackStarts[r] = starts.get(r);
+		rackStarts[starts.size()] = numHosts;
+	}
+
+	/* ***************************************************************
+	 * PUBLIC METHODS
+	 * ***************************************************************
+	 */
+
+	/**
+	 * @return the number of hosts
+	 */
+	public int getNumHosts() {
+		return hostNames.length;
+	}
+
+	/**
+	 * @return the number of racks
+	 */
+	public int getNumRacks() {
+		return rackStarts.length - 1;
+	}
+
+	/**
+	 * @param host
+	 *            the host index
+	 * @return the host name
+	 */
+	public String getHostName(int host) {
+		return hostNames[host];
+	}
+
+	/**
+	 * @param hostName
+	 *            the host name
+	 * @return the host index, or -1 if the host is not in the cluster
+	 */
+	public int getHostIndex(String hostName) {
+		Integer host = hostIndexes.get(hostName);
+		return (host == null) ? -1 : host;
+	}
+
+	/**
+	 * @param host
+	 *            the host index
+	 * @return the rack index of the host
+	 */
+	public int getRackIndex(int host) {
+		return hostRacks[host];
+	}
+
+	/**
+	 * Get the hosts that store the replicas of a block of a virtual file
+	 * 
+	 * @param file
+	 *            the virtual file
+	 * @param blockIndex
+	 *            the index of the block in the file
+	 * @return the host indexes of the replicas
+	 */
+	public int[] getReplicaHosts(VirtualFile file, int blockIndex) {
+		return getReplicaHosts(file.toString(), blockIndex, file
+				.getReplication());
+	}
+
+	/**
+	 * Get the hosts that store the replicas of a block. The number of
+	 * replicas is limited by the number of hosts.
+	 * 
+	 * @param path
+	 *            the file path
+	 * @param blockIndex
+	 *            the index of the block in the file
+	 * @param replication
+	 *            the replication factor
+	 * @return the host indexes of the replicas
+	 */
+	public int[] getReplicaHosts(String path, int blockIndex, int replication) {
+		if (replication <= 0)
+			throw new RuntimeException("ERROR: The replication factor must "
+					+ "be positive: " + replication);
+
+		int numHosts = hostNames.length;
+		int numReplicas = Math.min(replication, numHosts);
+		int[] replicas = new int[numReplicas];
+		Random random = new Random(31l * path.hashCode() + blockIndex);
+
+		for (int i = 0; i < numReplicas; ++i) {
+			int host = -1;
+			if (i == 1 && getNumRacks() > 1) {
+				// Pick a random host on a different rack
+				int rack = random.nextInt(getNumRacks() - 1);
+				if (rack >= hostRacks[replicas[0]])
+					++rack;
+				host = pickHost(random, rack, replicas, i);
+			} else if (i == 2 && getNumRacks() > 1) {
+				// Pick another host on the rack of the second replica
+				host = pickHost(random, hostRacks[replicas[1]], replicas, i);
+			}
+
+			// Pick any other host
+			while (host < 0 || contains(replicas, i, host))
+				host = random.nextInt(numHosts);
+			replicas[i] = host;
+		}
+
+		return replicas;
+	}
+
+	/* ***************************************************************
+	 * PRIVATE METHODS
+	 * ***************************************************************
+	 */
+
+	/**
+	 * Pick a random host on a rack that does not store a replica yet
+	 * 
+	 * @param random
+	 *            the random generator
+	 * @param rack
+	 *            the rack index
+	 * @param replicas
+	 *            the replica hosts
+	 * @param numReplicas
+	 *            the number of placed replicas
+	 * @return the host index, or -1 if all the hosts of the rack are taken
+	 */
+	private int pickHost(Random random, int rack, int[] replicas,
+			int numReplicas) {
+		int start = rackStarts[rack];
+		int size = rackStarts[rack + 1] - start;
+		int offset = random.nextInt(size);
+		for (int h = 0; h < size; ++h) {
+			int host = start + (offset + h) % size;
+			if (!contains(replicas, numReplicas, host))
+				return host;
+		}
+		return -1;
+	}
+
+	/**
+	 * @return true if the first elements of the array contain the value
+	 */
+	private static boolean contains(int[] array, int length, int value) {
+		for (int i = 0; i < length; ++i)
+			if (array[i] == value)
+				return true;
+		return false;
+	}
+
+	/**
+	 * @param host
+	 *            the host
+	 * @return the rack name of the host
+	 */
+	private static String getRackName(SlaveHostInfo host) {
+		return (host.getRackName() == null) ? DEFAULT_RACK : host
+				.getRackName();
+	}
+
+}
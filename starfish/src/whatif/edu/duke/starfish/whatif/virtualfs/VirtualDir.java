@@ -1,10 +1,15 @@
 package edu.duke.starfish.whatif.virtualfs;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
- * Represents a virtual directory
+ * Represents a virtual directory. The children are indexed by name, so that
+ * looking up a child by its plain name does not scan the directory.
  * 
  * @author hero
  */
@@ -15,14 +20,14 @@ public class VirtualDir extends VirtualPath {
 	 * ***************************************************************
 	 */
 
-	private List<VirtualPath> children;
+	private Map<String, VirtualPath> children; // The children by name
 
 	/**
 	 * @see VirtualPath#VirtualPath(VirtualPath, String)
 	 */
 	public VirtualDir(VirtualDir parent, String name) {
 		super(parent, name);
-		children = new ArrayList<VirtualPath>();
+		children = new LinkedHashMap<String, VirtualPath>();
 	}
 
 	/* ***************************************************************
@@ -75,24 +80,38 @@ public class VirtualDir extends VirtualPath {
 
 	/**
 	 * @param child
-	 *            the child to add
+	 *            the child to add (replaces any child with the same name)
 	 */
 	public void addChild(VirtualPath child) {
-		this.children.add(child);
+		this.children.put(child.getName(), child);
 		child.setParent(this);
 	}
 
+	/**
+	 * @param name
+	 *            the child's exact name
+	 * @return the child with this name, or null if it does not exist
+	 */
+	public VirtualPath getChild(String name) {
+		return children.get(name);
+	}
+
 	/**
 	 * @param name
 	 *            the child's name (supports glob)
 	 * @return true if a child directory or file
 	 */
 	public boolean containsChild(String name) {
-		for (VirtualPath child : children) {
-			if (child.matches(name))
-				return true;
-		}
-		return false;
+		return containsChild(new VirtualPathMatcher(name));
+	}
+
+	/**
+	 * @param matcher
+	 *            the matcher of the child's name
+	 * @return true if a child directory or file
+	 */
+	public boolean containsChild(VirtualPathMatcher matcher) {
+		return findChild(matcher, true, true) != null;
 	}
 
 	/**
@@ -101,11 +120,16 @@ public class VirtualDir extends VirtualPath {
 	 * @return true if a child directory
 	 */
 	public boolean containsChildDir(String name) {
-		for (VirtualPath child : children) {
-			if (child.matches(name) && child.isDir())
-				return true;
-		}
-		return false;
+		return containsChildDir(new VirtualPathMatcher(name));
+	}
+
+	/**
+	 * @param matcher
+	 *            the matcher of the child's name
+	 * @return true if a child directory
+	 */
+	public boolean containsChildDir(VirtualPathMatcher matcher) {
+		return findChild(matcher, true, false) != null;
 	}
 
 	/**
@@ -114,11 +138,16 @@ public class VirtualDir extends VirtualPath {
 	 * @return true if a child file
 	 */
 	public boolean containsChildFile(String name) {
-		for (VirtualPath child : children) {
-			if (child.matches(name) && child.isFile())
-				return true;
-		}
-		return false;
+		return containsChildFile(new VirtualPathMatcher(name));
+	}
+
+	/**
+	 * @param matcher
+	 *            the matcher of the child's name
+	 * @return true if a child file
+	 */
+	public boolean containsChildFile(VirtualPathMatcher matcher) {
+		return findChild(matcher, false, true) != null;
 	}
 
 	/**
@@ -129,7 +158,12 @@ public class VirtualDir extends VirtualPath {
 	 * @return true if the directory contained this file
 	 */
 	public boolean deleteChildFile(VirtualFile file) {
-		return children.remove(file);
+		VirtualPath child = children.get(file.getName());
+		if (child == null || !child.equals(file))
+			return false;
+
+		children.remove(file.getName());
+		return true;
 	}
 
 	/**
@@ -138,19 +172,73 @@ public class VirtualDir extends VirtualPath {
 	 * @return the children
 	 */
 	public List<VirtualPath> getChildren(String name) {
+		return getChildren(new VirtualPathMatcher(name));
+	}
+
+	/**
+	 * @param matcher
+	 *            the matcher of the children's names
+	 * @return the matching children, in the order they were added
+	 */
+	public List<VirtualPath> getChildren(VirtualPathMatcher matcher) {
+		if (!matcher.isGlob()) {
+			VirtualPath child = children.get(matcher.getName());
+			return (child == null) ? Collections.<VirtualPath> emptyList()
+					: Collections.singletonList(child);
+		}
+
 		List<VirtualPath> result = new ArrayList<VirtualPath>(1);
-		for (VirtualPath child : children) {
-			if (child.matches(name))
+		for (VirtualPath child : children.values()) {
+			if (child.matches(matcher))
 				result.add(child);
 		}
 		return result;
 	}
 
 	/**
-	 * @return the children
+	 * @return the children, in the order they were added
+	 */
+	public Collection<VirtualPath> getChildren() {
+		return Collections.unmodifiableCollection(children.values());
+	}
+
+	/**
+	 * @return the number of children
 	 */
-	public List<VirtualPath> getChildren() {
-		return children;
+	public int getNumChildren() {
+		return children.size();
+	}
+
+	/* ***************************************************************
+	 * PRIVATE METHODS
+	 * ***************************************************************
+	 */
+
+	/**
+	 * Find the first child that matches. A plain name is looked up directly,
+	 * while a glob is matched against all the children.
+	 * 
+	 * @param matcher
+	 *            the matcher of the child's name
+	 * @param dirs
+	 *            whether to accept directories
+	 * @param files
+	 *            whether to accept files
+	 * @return the matching child, or null if none exists
+	 */
+	private VirtualPath findChild(VirtualPathMatcher matcher, boolean dirs,
+			boolean files) {
+		if (!matcher.isGlob()) {
+			VirtualPath child = children.get(matcher.getName());
+			return (child != null && (child.isDir() ? dirs : files)) ? child
+					: null;
+		}
+
+		for (VirtualPath child : children.values()) {
+			if ((child.isDir() ? dirs : files) && child.matches(matcher))
+				return child;
+		}
+		return null;
 	}
 
 }
@@ -6,6 +6,8 @@ import static edu.duke.starfish.profile.utils.Constants.MR_SFIF;
 import static edu.duke.starfish.profile.utils.Constants.MR_TIF;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.List;
 
 import org.apache.hadoop.conf.Configuration;
@@ -76,19 +78,17 @@ public class VirtualFSDataSetModel extends DataSetModel {
 								file.isCompress(), DataLocality.DATA_LOCAL));
 
 					} else {
-						// Create the specs per blocks
-						List<VirtualFileBlock> blocks = file.getBlocks();
-						if (blocks.size() > 1) {
-							inputSpecs
-									.add(new MapInputSpecs(i,
-											blocks.size() - 1, blocks.get(0)
-													.getSize(), file
-													.isCompress(),
-											DataLocality.DATA_LOCAL));
+						// Create the specs per blocks: all blocks are full
+						// except for the last one
+						int numBlocks = file.getNumBlocks();
+						if (numBlocks > 1) {
+							inputSpecs.add(new MapInputSpecs(i, numBlocks - 1,
+									file.getBlockSize(), file.isCompress(),
+									DataLocality.DATA_LOCAL));
 						}
 
-						inputSpecs.add(new MapInputSpecs(i, 1, blocks.get(
-								blocks.size() - 1).getSize(),
+						inputSpecs.add(new MapInputSpecs(i, 1, file
+								.getBlockSize(numBlocks - 1),
 								file.isCompress(), DataLocality.DATA_LOCAL));
 					}
 				}
@@ -101,6 +101,73 @@ public class VirtualFSDataSetModel extends DataSetModel {
 		return inputSpecs;
 	}
 
+	/* ***************************************************************
+	 * PUBLIC METHODS
+	 * ***************************************************************
+	 */
+
+	/**
+	 * Get the hosts that store the input split of each map task. The splits
+	 * are created like in {@link #generateMapInputSpecs(Configuration)} and
+	 * are returned in decreasing order of size, which is the order the map
+	 * tasks get scheduled. A split that spans many blocks (i.e., a file that
+	 * cannot be split) is placed on the hosts of its first block.
+	 * 
+	 * @param conf
+	 *            the configuration
+	 * @param placement
+	 *            the placement of the blocks on the hosts
+	 * @return the replica hosts of each split
+	 */
+	public List<int[]> generateSplitHosts(Configuration conf,
+			VirtualBlockPlacement placement) {
+
+		// Get the input directories
+		String[] dirList = conf.getStrings(VIRTUAL_INPUT_DIRS);
+		if (dirList == null || dirList.length == 0) {
+			throw new RuntimeException(
+					"ERROR: No input was specified in the conf file");
+		}
+
+		// Create one split per block, or per file if it cannot be split
+		final List<Long> sizes = new ArrayList<Long>();
+		List<int[]> hosts = new ArrayList<int[]>();
+		for (String inputDir : dirList) {
+			try {
+				for (VirtualFile file : vfs.listFiles(inputDir, true)) {
+					if (!isInputFileSplittable(conf, file)) {
+						sizes.add(file.getSize());
+						hosts.add(placement.getReplicaHosts(file, 0));
+					} else {
+						for (int b = 0; b < file.getNumBlocks(); ++b) {
+							sizes.add(file.getBlockSize(b));
+							hosts.add(placement.getReplicaHosts(file, b));
+						}
+					}
+				}
+
+			} catch (VirtualFSException e) {
+				throw new RuntimeException(e);
+			}
+		}
+
+		// Sort the splits by decreasing size (the sort is stable)
+		Integer[] order = new Integer[sizes.size()];
+		for (int i = 0; i < order.length; ++i)
+			order[i] = i;
+		Arrays.sort(order, new Comparator<Integer>() {
+			@Override
+			public int compare(Integer i1, Integer i2) {
+				return sizes.get(i2).compareTo(sizes.get(i1));
+			}
+		});
+
+		List<int[]> sortedHosts = new ArrayList<int[]>(order.length);
+		for (int i : order)
+			sortedHosts.add(hosts.get(i));
+		return sortedHosts;
+	}
+
 	/* ***************************************************************
 	 * PROTECTED METHODS
 	 * ***************************************************************
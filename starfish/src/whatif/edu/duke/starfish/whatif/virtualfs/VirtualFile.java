@@ -1,10 +1,12 @@
 package edu.duke.starfish.whatif.virtualfs;
 
-import java.util.ArrayList;
+import java.util.AbstractList;
 import java.util.List;
+import java.util.RandomAccess;
 
 /**
- * Represents a virtual file
+ * Represents a virtual file. The blocks of the file are not stored, since they
+ * are fully determined by the file size and the block size.
  * 
  * @author hero
  */
@@ -19,7 +21,7 @@ public class VirtualFile extends VirtualPath {
 	private boolean compress;
 	private long blockSize;
 	private int replication;
-	private List<VirtualFileBlock> blocks;
+	private int numBlocks;
 
 	/**
 	 * Constructor
@@ -44,7 +46,7 @@ public class VirtualFile extends VirtualPath {
 		this.compress = compress;
 		this.blockSize = blockSize;
 		this.replication = replication;
-		createFileBlocks();
+		this.numBlocks = calculateNumBlocks(size, blockSize);
 	}
 
 	/* ***************************************************************
@@ -75,7 +77,6 @@ public class VirtualFile extends VirtualPath {
 	public int hashCode() {
 		int result = super.hashCode();
 		result = 31 * result + (int) (blockSize ^ (blockSize >>> 32));
-		result = 37 * result + ((blocks == null) ? 0 : blocks.hashCode());
 		result = 41 * result + (compress ? 1231 : 1237);
 		result = 43 * result + replication;
 		result = 47 * result + (int) (size ^ (size >>> 32));
@@ -96,11 +97,6 @@ public class VirtualFile extends VirtualPath {
 		VirtualFile other = (VirtualFile) obj;
 		if (blockSize != other.blockSize)
 			return false;
-		if (blocks == null) {
-			if (other.blocks != null)
-				return false;
-		} else if (!blocks.equals(other.blocks))
-			return false;
 		if (compress != other.compress)
 			return false;
 		if (replication != other.replication)
@@ -144,10 +140,33 @@ public class VirtualFile extends VirtualPath {
 	}
 
 	/**
-	 * @return the blocks
+	 * @return the number of blocks
+	 */
+	public int getNumBlocks() {
+		return numBlocks;
+	}
+
+	/**
+	 * Get the size of a block. All blocks are full except for the last one.
+	 * 
+	 * @param index
+	 *            the index of the block
+	 * @return the size of the block (in bytes)
+	 */
+	public long getBlockSize(int index) {
+		if (index < 0 || index >= numBlocks)
+			throw new IndexOutOfBoundsException("Block " + index + " of "
+					+ numBlocks);
+		return (index < numBlocks - 1) ? blockSize : size - (numBlocks - 1)
+				* blockSize;
+	}
+
+	/**
+	 * @return the blocks, which are created on demand from the file size and
+	 *         the block size
 	 */
 	public List<VirtualFileBlock> getBlocks() {
-		return blocks;
+		return new BlockList();
 	}
 
 	/* ***************************************************************
@@ -156,20 +175,42 @@ public class VirtualFile extends VirtualPath {
 	 */
 
 	/**
-	 * Creates the file blocks
+	 * Calculates the number of blocks of a file. An empty file has a single
+	 * empty block.
+	 * 
+	 * @param size
+	 *            file size (bytes)
+	 * @param blockSize
+	 *            block size (bytes)
+	 * @return the number of blocks
+	 */
+	private static int calculateNumBlocks(long size, long blockSize) {
+		if (size <= blockSize)
+			return 1;
+		return (int) ((size + blockSize - 1) / blockSize);
+	}
+
+	/* ***************************************************************
+	 * PRIVATE CLASSES
+	 * ***************************************************************
+	 */
+
+	/**
+	 * A read-only list view of the file blocks
+	 * 
+	 * @author hero
 	 */
-	private void createFileBlocks() {
+	private class BlockList extends AbstractList<VirtualFileBlock> implements
+			RandomAccess {
 
-		// Calculate the number of blocks
-		int numBlocks = (int) Math.ceil(size / (double) blockSize);
-		blocks = new ArrayList<VirtualFileBlock>(numBlocks);
+		@Override
+		public VirtualFileBlock get(int index) {
+			return new VirtualFileBlock(getBlockSize(index));
+		}
 
-		// Add the file blocks
-		long remaining = size;
-		while (remaining > blockSize) {
-			blocks.add(new VirtualFileBlock(blockSize));
-			remaining -= blockSize;
+		@Override
+		public int size() {
+			return numBlocks;
 		}
-		blocks.add(new VirtualFileBlock(remaining));
 	}
 }
@@ -95,13 +95,14 @@ public class VirtualFileSystem {
 		VirtualDir parent = root;
 		VirtualDir child = null;
 		for (int i = 1; i < paths.length - 1; ++i) {
-			if (parent.containsChildFile(paths[i])) {
+			VirtualPathMatcher matcher = new VirtualPathMatcher(paths[i]);
+			if (parent.containsChildFile(matcher)) {
 				// Found a file with this name
 				throw new VirtualFSException("Subpath already exists as file: "
 						+ fullPath);
-			} else if (parent.containsChildDir(paths[i])) {
+			} else if (parent.containsChildDir(matcher)) {
 				// Found a directory with this name
-				List<VirtualPath> children = parent.getChildren(paths[i]);
+				List<VirtualPath> children = parent.getChildren(matcher);
 				if (children.size() != 1)
 					throw new VirtualFSException(
 							"Found multiple paths matching: " + fullPath);
@@ -144,7 +145,8 @@ public class VirtualFileSystem {
 		if (paths.length == 0)
 			return true;
 		else
-			return containFiles(root, paths, 0);
+			return containFiles(root, VirtualPathMatcher
+					.createMatchers(paths), 0);
 	}
 
 	/**
@@ -196,7 +198,8 @@ public class VirtualFileSystem {
 		if (paths.length == 0)
 			gatherFiles(result, root, recursive);
 		else
-			gatherFiles(result, root, recursive, paths, 0);
+			gatherFiles(result, root, recursive, VirtualPathMatcher
+					.createMatchers(paths), 0);
 
 		return result;
 	}
@@ -280,16 +283,17 @@ public class VirtualFileSystem {
 
 	/**
 	 * Main recursive method to check for the existence of the provided input
-	 * paths.
+	 * paths. Only the children that match the next input path are visited.
 	 * 
 	 * @param path
 	 *            the current path
 	 * @param paths
-	 *            the array of the input paths
+	 *            the matchers of the input paths
 	 * @param index
 	 *            the current index in the array of input paths
 	 */
-	private boolean containFiles(VirtualPath path, String[] paths, int index) {
+	private boolean containFiles(VirtualPath path, VirtualPathMatcher[] paths,
+			int index) {
 
 		if (!path.matches(paths[index])) {
 			// No match, stop here
@@ -303,7 +307,8 @@ public class VirtualFileSystem {
 
 		if (path.isDir()) {
 			// We have reached an intermediate directory
-			for (VirtualPath child : ((VirtualDir) path).getChildren()) {
+			for (VirtualPath child : ((VirtualDir) path)
+					.getChildren(paths[index + 1])) {
 				if (containFiles(child, paths, index + 1))
 					return true;
 			}
@@ -314,6 +319,7 @@ public class VirtualFileSystem {
 
 	/**
 	 * Main recursive method to gather files matching the provided input paths.
+	 * Only the children that match the next input path are visited.
 	 * 
 	 * @param files
 	 *            the list to place the files in
@@ -322,12 +328,12 @@ public class VirtualFileSystem {
 	 * @param recursive
 	 *            whether the final file search is recursive or not
 	 * @param paths
-	 *            the array of the input paths
+	 *            the matchers of the input paths
 	 * @param index
 	 *            the current index in the array of input paths
 	 */
 	private void gatherFiles(List<VirtualFile> files, VirtualPath path,
-			boolean recursive, String[] paths, int index) {
+			boolean recursive, VirtualPathMatcher[] paths, int index) {
 
 		if (!path.matches(paths[index])) {
 			// No match, stop here
@@ -343,7 +349,8 @@ public class VirtualFileSystem {
 		} else {
 			if (path.isDir()) {
 				// We have reached an intermediate directory
-				for (VirtualPath child : ((VirtualDir) path).getChildren()) {
+				for (VirtualPath child : ((VirtualDir) path)
+						.getChildren(paths[index + 1])) {
 					gatherFiles(files, child, recursive, paths, index + 1);
 				}
 			}
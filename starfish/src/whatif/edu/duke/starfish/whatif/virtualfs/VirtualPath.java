@@ -1,7 +1,5 @@
 package edu.duke.starfish.whatif.virtualfs;
 
-import edu.duke.starfish.profile.utils.GeneralUtils;
-
 /**
  * Represents a virtual file or directory path. Also forms the base class for a
  * VirtualFile or a VirtualDirectory
@@ -89,10 +87,18 @@ public abstract class VirtualPath {
 	 * @return if the name matches
 	 */
 	public boolean matches(String name) {
-		if (this.name.equals(name))
-			return true;
+		return matches(new VirtualPathMatcher(name));
+	}
 
-		return this.name.matches(GeneralUtils.convertGlobToRegEx(name, true));
+	/**
+	 * Checks if the name of this path matches the input matcher
+	 * 
+	 * @param matcher
+	 *            the matcher with the name to match (supports glob)
+	 * @return if the name matches
+	 */
+	public boolean matches(VirtualPathMatcher matcher) {
+		return matcher.matches(this.name);
 	}
 
 	/**
@@ -0,0 +1,120 @@
+package edu.duke.starfish.whatif.virtualfs;
+
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+import edu.duke.starfish.profile.utils.GeneralUtils;
+
+/**
+ * Matches the names of virtual paths against a name that may contain a glob.
+ * The glob is converted into a regular expression only once, when the
+ * matcher is created. A name without any glob characters is matched exactly,
+ * so that the directories can find the matching child with a hash lookup.
+ * 
+ * @author hero
+ */
+public class VirtualPathMatcher {
+
+	/* ***************************************************************
+	 * DATA MEMBERS
+	 * ***************************************************************
+	 */
+
+	private String name; // The name to match (may contain a glob)
+	private Pattern pattern; // The glob pattern (null for a plain name)
+
+	// Constants
+	private static final String GLOB_CHARS = "*?[]{}\\";
+
+	/**
+	 * Constructor
+	 * 
+	 * @param name
+	 *            the name to match (supports glob)
+	 */
+	public VirtualPathMatcher(String name) {
+		this.name = name;
+		this.pattern = null;
+		if (isGlob(name)) {
+			try {
+				pattern = Pattern.compile(GeneralUtils.convertGlobToRegEx(
+						name, true));
+			} catch (PatternSyntaxException e) {
+				// An invalid glob can only match the exact name
+			}
+		}
+	}
+
+	/* ***************************************************************
+	 * PUBLIC METHODS
+	 * ***************************************************************
+	 */
+
+	/**
+	 * @return the name to match (may contain a glob)
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * @return true if the name contains a glob, i.e., it may match more than
+	 *         one name
+	 */
+	public boolean isGlob() {
+		return pattern != null;
+	}
+
+	/**
+	 * Checks if the input path name matches the name of this matcher
+	 * 
+	 * @param pathName
+	 *            the name of a virtual path
+	 * @return true if the name matches
+	 */
+	public boolean matches(String pathName) {
+		if (pathName.equals(name))
+			return true;
+
+		return pattern != null && pattern.matcher(pathName).matches();
+	}
+
+	/**
+	 * Creates one matcher per name
+	 * 
+	 * @param names
+	 *            the names to match (support glob)
+	 * @return the matchers
+	 */
+	public static VirtualPathMatcher[] createMatchers(String[] names) {
+		VirtualPathMatcher[] matchers = new VirtualPathMatcher[names.length];
+		for (int i = 0; i < names.length; ++i)
+			matchers[i] = new VirtualPathMatcher(names[i]);
+		return matchers;
+	}
+
+	/* ***************************************************************
+	 * PRIVATE METHODS
+	 * ***************************************************************
+	 */
+
+	/**
+	 * A name is a glob if it contains any of the glob characters, or if it
+	 * has leading or trailing white space, which the glob conversion removes
+	 * 
+	 * @param name
+	 *            the name
+	 * @return true if the name must be matched as a glob
+	 */
+	private static boolean isGlob(String name) {
+		if (name.length() != name.trim().length())
+			return true;
+
+		for (int i = 0; i < name.length(); ++i) {
+			if (GLOB_CHARS.indexOf(name.charAt(i)) != -1)
+				return true;
+		}
+		return false;
+	}
+
+}
@@ -3,6 +3,7 @@ package edu.duke.starfish.visualizer.model.timeline;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -15,11 +16,13 @@ import edu.duke.starfish.profile.profileinfo.execution.mrtaskattempts.MRSetupAtt
 import edu.duke.starfish.profile.profileinfo.execution.mrtaskattempts.MRTaskAttemptInfo;
 import edu.duke.starfish.profile.profileinfo.execution.mrtasks.MRTaskInfo;
 import edu.duke.starfish.profile.profileinfo.setup.TaskTrackerInfo;
+import edu.duke.starfish.profile.utils.TimelineCalc;
 
 /**
  * This class forms the Model for the Timeline View. It is responsible for
  * scheduling the tasks for execution in the task trackers. The View will query
- * this Model for the data it needs to populate itself.
+ * this Model for the data it needs to populate itself. The number of tasks
+ * running at any time is provided by a millisecond {@link TimelineCalc}.
  * 
  * @author hero
  */
@@ -33,6 +36,7 @@ public class TimelineModel {
 	private MRJobInfo job;
 	private Map<String, TimelineTaskTracker> trackersMap;
 	private List<TimelineTaskTracker> trackersList;
+	private TimelineCalc timeline;
 
 	/**
 	 * @param job
@@ -41,6 +45,9 @@ public class TimelineModel {
 		this.job = job;
 		this.trackersMap = new HashMap<String, TimelineTaskTracker>();
 		this.trackersList = new ArrayList<TimelineTaskTracker>();
+		this.timeline = new TimelineCalc(job.getStartTime(), job.getEndTime(),
+				1l);
+		this.timeline.addJob(job);
 
 		scheduleJob();
 		updateTaskTrackers();
@@ -65,6 +72,27 @@ public class TimelineModel {
 		return trackersList.size();
 	}
 
+	/**
+	 * @return the timeline with the number of running tasks over time
+	 */
+	public TimelineCalc getTimeline() {
+		return timeline;
+	}
+
+	/**
+	 * Get the number of tasks of a timeline series (e.g.,
+	 * {@link TimelineCalc#MAPS}) running at a particular time
+	 * 
+	 * @param series
+	 *            the timeline series
+	 * @param time
+	 *            the time
+	 * @return the number of running tasks
+	 */
+	public int getNumRunningTasks(int series, Date time) {
+		return timeline.getCount(series, time);
+	}
+
 	/**
 	 * Assumes all task trackers have the same number of slots
 	 * 